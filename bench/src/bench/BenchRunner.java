@@ -0,0 +1,34 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this module. The first argument is an optional regex of the benchmarks to
+ * run such as "translate|mateStatus"; all of them run by default.
+ * <p>
+ * Passing "alloc" as the last argument adds the GC profiler, which reports the bytes allocated per
+ * operation (gc.alloc.rate.norm) next to the time per operation. Allocation regressions show up
+ * there long before they show up in ns/op.
+ * <p>
+ * Run it as: {@code BenchRunner [regex] [alloc]}
+ */
+
+public class BenchRunner {
+
+    public static void main(String[] args) throws Exception {
+        boolean alloc = args.length > 0 && args[args.length - 1].equals("alloc");
+        int regexCount = alloc ? args.length - 1 : args.length;
+        String regex = regexCount > 0 ? args[0] : "";
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(HotPathBench.class.getSimpleName() + ".*(" + regex + ")");
+
+        if (alloc) options.addProfiler(GCProfiler.class);
+
+        new Runner(options.build()).run();
+    }
+
+}
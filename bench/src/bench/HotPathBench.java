@@ -0,0 +1,111 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+import tanzi.algorithm.*;
+import tanzi.model.BRHistory;
+import tanzi.model.MoveMeta;
+import tanzi.model.Piece;
+import tanzi.model.Square;
+import tanzi.staff.BoardRegistry;
+import tanzi.staff.BufferedBR;
+import tanzi.staff.MoveRepo;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks for the hot paths of reading & playing a SAN move. Each benchmark runs on the
+ * positions of {@link Positions}, one position per value of the puzzle parameter.
+ * <p>
+ * The BR "before" holds the position before the last move of the puzzle & the BR "after" holds the
+ * position after it. A benchmark which changes the BR reverts it within the same operation, so
+ * every call measures the same position.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotPathBench {
+
+    @Param({"0", "1", "2", "3"})
+    public int puzzle;
+
+    private String move;
+    private MoveMeta meta;
+
+    // the move meta the reusing analysis writes into
+    private final MoveMeta reused = new MoveMeta();
+    private BoardRegistry before, after;
+
+    // the squares of the last move as GUI indices & the army who plays it
+    private int indexA, indexB, color;
+    private String destSquare;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MoveRepo repo = MoveRepo.of(MoveRepo.Type.REPO_GUARDED, Positions.PUZZLES[puzzle]);
+        int last = repo.moveCount() - 1;
+
+        move = repo.moveAt(last);
+        meta = Positions.lastMeta(repo);
+        before = Positions.playUntil(repo, last);
+        after = Positions.playUntil(repo, last + 1);
+
+        Piece piece = Arbiter.getPiece(meta, before);
+        if (piece == null) throw new IllegalStateException("No piece can play " + move);
+
+        color = meta.color;
+        destSquare = meta.castle ? King.getCastleMeta(meta)[2] : meta.destSquare;
+        indexA = piece.brIndex();
+        indexB = Square.index(destSquare);
+    }
+
+    @Benchmark
+    public MoveMeta analyze() {
+        return MoveAnalyzer.analyze(move);
+    }
+
+    @Benchmark
+    public MoveMeta analyzeReused() {
+        return MoveAnalyzer.analyze(move, reused);
+    }
+
+    @Benchmark
+    public Piece getPiece() {
+        return Arbiter.getPiece(meta, before);
+    }
+
+    // the history is undone right away to play the same move again on the next call
+    @Benchmark
+    public BRHistory moveAndRedo() {
+        BRHistory history = MoveMaker.move(meta, before);
+        history.redo(before);
+        history.undo(before);
+        return history;
+    }
+
+    @Benchmark
+    public String translate() {
+        return PGN.translate(indexA, indexB, meta.promoteType, before);
+    }
+
+    @Benchmark
+    public String mateStatus() {
+        return Check.mateStatus(color, destSquare, after);
+    }
+
+    @Benchmark
+    public boolean isStaleMate() {
+        return StaleMate.isStaleMate(Piece.getOppositeColor(color), after);
+    }
+
+    @Benchmark
+    public BufferedBR copy() {
+        BufferedBR copy = before.copy();
+        copy.recycle();
+        return copy;
+    }
+
+}
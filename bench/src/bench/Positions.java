@@ -0,0 +1,50 @@
+package bench;
+
+import tanzi.algorithm.MoveMaker;
+import tanzi.model.BRHistory;
+import tanzi.model.MoveMeta;
+import tanzi.staff.BoardRegistry;
+import tanzi.staff.MoveRepo;
+
+/**
+ * Fixed puzzles taken from the puzzle DB, so that every benchmark run measures the same positions
+ * without the DB. Each puzzle is the game moves followed by the solution moves, the same way the
+ * test module reads them from the DB.
+ * <p>
+ * The position benchmarks run on is the one right before the last move of the solution.
+ */
+
+public abstract class Positions {
+
+    public static final String[] PUZZLES = {
+            // 00aDl: solution ends with a checkmate by a rook
+            "d4,Nf6,Nc3,d5,Nf3,c6,e3,Bg4,Be2,e6,h3,Bf5,Nh4,Bg6,Nxg6,hxg6,Qd3,Bd6,Bd2,Nbd7,O-O-O,Nb6,e4,a5,e5,Bb4,exf6,gxf6,Bf3,Nc4,a3,O-O,axb4,axb4,Nb1,Qa5,Qb3,Qa1,Bxb4,Ra2,Bc3,Rfa8,Be2,Qxb1+,Kxb1,Ra1#",
+
+            // 01GBu: solution ends with a checkmate on the back rank
+            "e4,c5,Bc4,g6,Nf3,Bg7,c3,a6,d4,cxd4,cxd4,e6,Nc3,Ne7,Bg5,O-O,O-O,Nbc6,Re1,b5,Bb3,Bb7,d5,exd5,Bxd5,Qc7,Bxc6,Nxc6,Rc1,f6,Bh4,Qb6,Nd5,Qa5,Qb3,Kh8,Rc2,Rae8,Rce2,Ne5,Nxe5,Rxe5,Bg3,Bxd5,exd5,Qxe1+,Rxe1,Rxe1#",
+
+            // 02WQZ: solution ends with a promotion
+            "e4,g6,f4,Bg7,Nf3,c5,Bc4,Nc6,O-O,d6,e5,d5,Bb5,Bg4,c3,e6,Qa4,Ne7,d4,cxd4,Nxd4,Rc8,Qxa7,O-O,Bxc6,bxc6,Be3,c5,Nb5,Be2,Nd6,Ra8,Qxc5,Bxf1,Kxf1,Nc8,Na3,Nxd6,exd6,Ra5,Qb4,Qa8,d7,Qa6+,Kg1,Ra4,Qxf8+,Bxf8,d8=Q",
+
+            // 00206: solution ends with a quiet capture
+            "d4,d5,Bf4,Nc6,e3,Nf6,Nf3,Nh5,Bg5,f6,Bh4,g5,Ne5,Nxe5,Qxh5+,Nf7,Bg3,Bf5,c4,Qd7,Nc3,Bg4,Qxg4,Qxg4"
+    };
+
+    /**
+     * Plays the moves of the repo up to the index exclusive into a fresh BR.
+     */
+    public static BoardRegistry playUntil(MoveRepo repo, int moveIndex) {
+        BoardRegistry br = new BoardRegistry();
+        for (int i = 0; i < moveIndex; i++) {
+            BRHistory history = MoveMaker.move(repo.metaAt(i), br);
+            if (history == null) throw new IllegalStateException("Can't play the move " + repo.moveAt(i));
+            history.redo(br);
+        }
+        return br;
+    }
+
+    public static MoveMeta lastMeta(MoveRepo repo) {
+        return repo.metaAt(repo.moveCount() - 1);
+    }
+
+}
@@ -0,0 +1,177 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A small pool of connections to the database, so that many threads can query it at the same time,
+ * each on its own connection. The connections are created as they are needed up to the size of the
+ * pool, and a thread borrowing one when all of them are in use waits for one to be returned.
+ * <p>
+ * A connection is borrowed as a {@link Lease}, which keeps the statements prepared on the connection
+ * so that a query is only prepared once for each connection. The lease must be closed to return the
+ * connection, best by try-with-resources.
+ */
+
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Creates a connection for the pool.
+     */
+    public interface Factory {
+        Connection create() throws SQLException;
+    }
+
+    /**
+     * A connection borrowed from the pool along with its prepared statements. It must only be used by
+     * the thread which has borrowed it until it is closed.
+     */
+    public class Lease implements AutoCloseable {
+
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+        private boolean borrowed;
+
+        private Lease(Connection connection) {
+            this.connection = connection;
+        }
+
+        public Connection connection() {
+            return connection;
+        }
+
+        /**
+         * The statement prepared for the sql on this connection, which is prepared only the first time.
+         * Its parameters are left as they were set by the last use, and it must not be closed.
+         */
+        public PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            }
+            return statement;
+        }
+
+        /**
+         * Returns the connection to the pool, or closes it if the pool has been closed meanwhile.
+         * Closing a lease twice does nothing.
+         */
+        @Override
+        public void close() {
+            synchronized (ConnectionPool.this) {
+                if (!borrowed) return;
+                borrowed = false;
+
+                if (!closed) {
+                    idle.offer(this);
+                    return;
+                }
+            }
+            dispose();
+        }
+
+        private void dispose() {
+            for (PreparedStatement statement : statements.values()) {
+                try {
+                    statement.close();
+                } catch (SQLException ignored) {
+
+                }
+            }
+            statements.clear();
+
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+
+            }
+        }
+
+    }
+
+    public static final int DEFAULT_SIZE = 4;
+
+    // how long a borrower waits for a connection before it checks whether the pool has been closed
+    private static final long WAIT_MILLIS = 100;
+
+    private final Factory factory;
+    private final int size;
+
+    private final BlockingQueue<Lease> idle;
+    private final List<Lease> all = new ArrayList<>();
+    private boolean closed;
+
+    public ConnectionPool(Factory factory) {
+        this(factory, DEFAULT_SIZE);
+    }
+
+    public ConnectionPool(Factory factory, int size) {
+        if (size < 1) throw new IllegalArgumentException("Invalid pool size " + size);
+
+        this.factory = factory;
+        this.size = size;
+        idle = new ArrayBlockingQueue<>(size);
+    }
+
+    /**
+     * Borrows a connection from the pool, creating one if none is idle and the pool is not full,
+     * otherwise waiting for one to be returned. It throws SQLException if the pool is closed, even
+     * while waiting.
+     */
+    public Lease borrow() throws SQLException {
+        Lease lease = idle.poll();
+        if (lease == null) lease = create();
+
+        try {
+            while (lease == null) {
+                checkOpen();
+                lease = idle.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+
+        // the pool may have been closed after the lease was returned to it
+        synchronized (this) {
+            checkOpen();
+            lease.borrowed = true;
+        }
+        return lease;
+    }
+
+    /**
+     * Closes all the connections of the pool. The connections borrowed at the time are closed as well.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (Lease lease : all) lease.dispose();
+        all.clear();
+        idle.clear();
+    }
+
+    // a new lease if the pool is not full yet, null otherwise
+    private synchronized Lease create() throws SQLException {
+        checkOpen();
+        if (all.size() == size) return null;
+
+        Lease lease = new Lease(factory.create());
+        all.add(lease);
+        return lease;
+    }
+
+    private synchronized void checkOpen() throws SQLException {
+        if (closed) throw new SQLException("Connection pool is closed");
+    }
+
+}
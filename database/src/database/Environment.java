@@ -6,6 +6,9 @@ import lib.helper.Pref;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
 import java.sql.SQLException;
 
 public class Environment {
@@ -15,6 +18,7 @@ public class Environment {
 
     public static final String TANZI_ENGIN = USER_HOME + PATH_SEPARATOR + "TanziEngine";
     public static final String DB_PATH = TANZI_ENGIN + PATH_SEPARATOR + "puzzle.db";
+    public static final String PACK_PATH = TANZI_ENGIN + PATH_SEPARATOR + "puzzle.pack";
 
     public static final String KEY_HELLO_LOAD = "helloLoad";
 
@@ -25,6 +29,26 @@ public class Environment {
         File db = new File(DB_PATH);
 
         if (envFolder.exists()) {
+            // the database may have been made by an older version
+            try {
+                int version = Migrations.migrate(PuzzleDB.getInstance().getConnection());
+                if (version < Migrations.VERSION)
+                    Console.log(Environment.class, "database migrated from version " + version + " to " + Migrations.VERSION);
+            } catch (SQLException e) {
+                e.printStackTrace();
+                System.err.println("Exception in migrating database");
+            }
+
+            // an install made before the pack gets one
+            if (!Files.exists(Path.of(PACK_PATH))) {
+                try {
+                    createPack(PuzzleDB.getInstance().getConnection());
+                } catch (IOException | SQLException e) {
+                    e.printStackTrace();
+                    System.err.println("Exception in creating puzzle pack");
+                }
+            }
+
             System.out.println("Environment has been checked");
             return;
         }
@@ -43,10 +67,18 @@ public class Environment {
             Console.log(Environment.class, "database table created");
 
             Console.log(Environment.class, "inserting puzzle dataset...");
-            puzzleDB.dumpPuzzleSet();
-            Console.log(Environment.class, "puzzle dataset inserted");
+            PuzzleLoader.Report report = puzzleDB.dumpPuzzleSet();
+            Console.log(Environment.class, "puzzle dataset inserted, " + report);
 
             puzzleDB.getConnection().commit();
+
+            // the indexes are made after the puzzles are inserted, which is faster than keeping them up to date
+            Migrations.migrate(puzzleDB.getConnection());
+            Console.log(Environment.class, "database indexes created");
+
+            if (report.rows > 0) createPack(puzzleDB.getConnection());
+            else Console.log(Environment.class, "no puzzle inserted, puzzle pack not created");
+
             Pref.putBoolean(Environment.KEY_HELLO_LOAD, false);
 
             System.out.println("Environment has been prepared");
@@ -57,6 +89,13 @@ public class Environment {
         }
     }
 
+    // the puzzles are read from the pack, the database is kept as the source of it
+    private static void createPack(Connection connection) throws IOException, SQLException {
+        int puzzles = PuzzlePack.convert(connection, Path.of(PACK_PATH));
+        if (puzzles > 0) Console.log(Environment.class, "puzzle pack created with " + puzzles + " puzzles");
+        else Console.log(Environment.class, "no puzzle in database, puzzle pack not created");
+    }
+
     public static URL getResource(String path) {
         return Environment.class.getResource(path);
     }
@@ -0,0 +1,69 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Brings the schema of the puzzle database up to date. The version of the schema is kept in the
+ * user_version of the database, which is 0 for a new database or one made before the migrations.
+ * Each migration takes the schema from one version to the next, and the ones after the version of the
+ * database are run in order, all in a single transaction.
+ * <p>
+ * A new migration must be added at the end, the ones already released must never be changed.
+ */
+
+public class Migrations {
+
+    private static final String[][] MIGRATIONS = {
+            // 1: the pgn table
+            {TableQuery.TABLE_PUZZLE},
+
+            // 2: the indexes for selecting the puzzles by the game type & the rating
+            {TableQuery.INDEX_PUZZLE_TYPE_RATING, TableQuery.INDEX_PUZZLE_RATING},
+
+            // 3: the start positions of the puzzles, see PuzzleStart
+            {TableQuery.COLUMN_START_FEN, TableQuery.COLUMN_START_HASH, TableQuery.COLUMN_SIDE_TO_MOVE,
+                    TableQuery.COLUMN_SOLUTION_MOVES}
+    };
+
+    public static final int VERSION = MIGRATIONS.length;
+
+    /**
+     * Runs the migrations the database doesn't have yet and returns the version it had before. It
+     * throws SQLException for a database of a newer version than this one knows, and on any failure
+     * the database is left at the version it had.
+     */
+    public static int migrate(Connection connection) throws SQLException {
+        int version = version(connection);
+        if (version > VERSION)
+            throw new SQLException("Puzzle database version " + version + " is newer than " + VERSION);
+        if (version == VERSION) return version;
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            for (int i = version; i < VERSION; i++)
+                for (String sql : MIGRATIONS[i]) statement.executeUpdate(sql);
+
+            statement.executeUpdate("PRAGMA user_version = " + VERSION + ";");
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        return version;
+    }
+
+    public static int version(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("PRAGMA user_version;")) {
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        }
+    }
+
+}
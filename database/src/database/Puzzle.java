@@ -0,0 +1,69 @@
+package database;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A puzzle as it is in a row of the pgn table. The problem is the moves of the game up to the puzzle
+ * and the solution is the moves solving it, both separated by commas.
+ */
+
+public class Puzzle {
+
+    public final long id;
+    public final String gameKey;
+    public final String gameType;
+    public final String whiteName;
+    public final int whitePoint;
+    public final String blackName;
+    public final int blackPoint;
+    public final String problem;
+    public final String solution;
+    public final String gameLink;
+
+    public Puzzle(long id, String gameKey, String gameType, String whiteName, int whitePoint,
+                  String blackName, int blackPoint, String problem, String solution, String gameLink) {
+        this.id = id;
+        this.gameKey = gameKey;
+        this.gameType = gameType;
+        this.whiteName = whiteName;
+        this.whitePoint = whitePoint;
+        this.blackName = blackName;
+        this.blackPoint = blackPoint;
+        this.problem = problem;
+        this.solution = solution;
+        this.gameLink = gameLink;
+    }
+
+    /**
+     * Reads the puzzle of the current row of the result set, which must have all the columns of the
+     * pgn table.
+     */
+    static Puzzle of(ResultSet resultSet) throws SQLException {
+        return new Puzzle(
+                resultSet.getLong("id"),
+                resultSet.getString("game_key"),
+                resultSet.getString("game_type"),
+                resultSet.getString("white_name"),
+                resultSet.getInt("white_point"),
+                resultSet.getString("black_name"),
+                resultSet.getInt("black_point"),
+                resultSet.getString("problem"),
+                resultSet.getString("solution"),
+                resultSet.getString("game_link")
+        );
+    }
+
+    /**
+     * The moves of the problem followed by the ones of the solution, separated by commas.
+     */
+    public String pgn() {
+        return problem + "," + solution;
+    }
+
+    @Override
+    public String toString() {
+        return "Puzzle " + id + " " + gameKey;
+    }
+
+}
@@ -0,0 +1,127 @@
+package database;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates the puzzles in the order of their ids, reading them page by page from the database. A page
+ * is read by the id of the last puzzle read before it ({@code WHERE id > ?}) rather than by an offset,
+ * so reading a page takes the same time anywhere in the table instead of going through all the rows
+ * before it. No connection is held between the pages.
+ * <p>
+ * With an executor, the next page is read on it while the current one is being iterated, so a reader
+ * replaying the puzzles rarely waits for the database.
+ * <p>
+ * A SQLException while reading a page is thrown as IllegalStateException. A cursor is not thread-safe.
+ */
+
+public class PuzzleCursor implements Iterator<Puzzle>, AutoCloseable {
+
+    /**
+     * Reads at most the limit of the puzzles with ids greater than the id in the order of their ids,
+     * such as {@link PuzzleDB#pageAfter(long, int)}.
+     */
+    public interface PageReader {
+        List<Puzzle> read(long afterId, int limit) throws SQLException;
+    }
+
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final PageReader reader;
+    private final int fetchSize;
+    private final ExecutorService prefetcher;
+
+    private List<Puzzle> page = List.of();
+    private int position;
+    private long lastId;
+    private boolean end, closed;
+
+    // the next page being read by the prefetcher
+    private Future<List<Puzzle>> next;
+
+    /**
+     * A cursor on the puzzles after the id, reading pages of the fetch size. The prefetcher can be
+     * null to read each page when it is reached.
+     */
+    public PuzzleCursor(PageReader reader, long afterId, int fetchSize, ExecutorService prefetcher) {
+        if (fetchSize < 1) throw new IllegalArgumentException("Invalid fetch size " + fetchSize);
+
+        this.reader = reader;
+        this.lastId = afterId;
+        this.fetchSize = fetchSize;
+        this.prefetcher = prefetcher;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position < page.size()) return true;
+        if (end || closed) return false;
+
+        page = nextPage();
+        position = 0;
+
+        // a page short of the fetch size is the last one
+        if (page.size() < fetchSize) {
+            end = true;
+        } else {
+            lastId = page.get(page.size() - 1).id;
+            if (prefetcher != null) {
+                long after = lastId;
+                next = prefetcher.submit(() -> reader.read(after, fetchSize));
+            }
+        }
+
+        return !page.isEmpty();
+    }
+
+    @Override
+    public Puzzle next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return page.get(position++);
+    }
+
+    /**
+     * The cursor as a stream, which closes the cursor when it is closed.
+     */
+    public Stream<Puzzle> stream() {
+        Spliterator<Puzzle> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Stops the cursor, dropping the page being prefetched.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        page = List.of();
+        if (next != null) next.cancel(false);
+        next = null;
+    }
+
+    private List<Puzzle> nextPage() {
+        Future<List<Puzzle>> future = next;
+        next = null;
+
+        try {
+            return future == null ? reader.read(lastId, fetchSize) : future.get();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Can't read the puzzles after " + lastId, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Can't read the puzzles after " + lastId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading the puzzles after " + lastId, e);
+        }
+    }
+
+}
@@ -1,22 +1,76 @@
 package database;
 
-import lib.helper.BenchMarker;
-import database.puzzle_set.*;
-
+import java.io.IOException;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The puzzle database. The connection of {@link #getConnection()} is for setting the database up in
+ * a transaction, and the puzzles are read by the query methods such as {@link #byId(long)}, which
+ * can be called by many threads at the same time. Each query borrows a connection of a pool & runs a
+ * statement prepared once for that connection, and the cursor is closed before the connection is
+ * returned.
+ */
 
 public class PuzzleDB {
 
-    private static PuzzleDB INSTANCE = null;
+    // puzzles are grouped into sets of this size in the order of their ids
+    public static final int SET_SIZE = 1000;
+
+    private static final String COLUMNS = "`id`, `game_key`, `game_type`, `white_name`, `white_point`, " +
+            "`black_name`, `black_point`, `problem`, `solution`, `game_link`";
+
+    private static final String BY_ID = "SELECT " + COLUMNS + " FROM `pgn` WHERE `id` = ?";
+    private static final String BY_KEY = "SELECT " + COLUMNS + " FROM `pgn` WHERE `game_key` = ?";
+    private static final String BY_RATING = "SELECT " + COLUMNS + " FROM `pgn` " +
+            "WHERE `white_point` BETWEEN ? AND ? AND `black_point` BETWEEN ? AND ? ORDER BY `id` LIMIT ?";
+    private static final String BY_SETS = "SELECT " + COLUMNS + " FROM `pgn` ORDER BY `id` LIMIT ? OFFSET ?";
+    // the ids are selected from the covering indexes of the TableQuery without reading the table
+    private static final String IDS_BY_RATING = "SELECT `id` FROM `pgn` " +
+            "WHERE `white_point` BETWEEN ? AND ? AND `black_point` BETWEEN ? AND ?";
+    private static final String IDS_BY_TYPE_RATING = "SELECT `id` FROM `pgn` " +
+            "WHERE `game_type` = ? AND `white_point` BETWEEN ? AND ? AND `black_point` BETWEEN ? AND ?";
+    private static final String PAGE = "SELECT " + COLUMNS + " FROM `pgn` WHERE `id` > ? ORDER BY `id` LIMIT ?";
+    private static final String START_BY_ID = "SELECT `id`, `start_fen`, `start_hash`, `side_to_move`, `solution_moves` " +
+            "FROM `pgn` WHERE `id` = ?";
+    private static final String UPDATE_START = "UPDATE `pgn` SET `start_fen` = ?, `start_hash` = ?, `side_to_move` = ?, " +
+            "`solution_moves` = ? WHERE `id` = ?";
+
+    private static volatile PuzzleDB INSTANCE = null;
     private Connection connection;
 
+    private final ConnectionPool pool = new ConnectionPool(PuzzleDB::connect);
+
+    // reads the next pages of the cursors in the background
+    private final ExecutorService prefetcher = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "puzzle-prefetcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private PuzzleDB() {
         createConnection();
     }
 
     public static PuzzleDB getInstance() {
-        if (INSTANCE == null) INSTANCE = new PuzzleDB();
-        return INSTANCE;
+        PuzzleDB instance = INSTANCE;
+        if (instance != null) return instance;
+
+        synchronized (PuzzleDB.class) {
+            if (INSTANCE == null) INSTANCE = new PuzzleDB();
+            return INSTANCE;
+        }
     }
 
     public Connection getConnection() {
@@ -27,16 +81,29 @@ public class PuzzleDB {
         if (connection != null) return;
 
         try {
-            Class.forName("org.sqlite.JDBC");
-            connection = DriverManager.getConnection("jdbc:sqlite:" + Environment.DB_PATH.replace("\\", "/"));
+            connection = connect();
             connection.setAutoCommit(false);
-        } catch (ClassNotFoundException | SQLException e) {
+        } catch (SQLException e) {
             System.out.println("Failed with excep " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    private static Connection connect() throws SQLException {
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("SQLite driver not found", e);
+        }
+        return DriverManager.getConnection("jdbc:sqlite:" + Environment.DB_PATH.replace("\\", "/"));
+    }
+
+    /**
+     * Closes the connection for the setup and the ones of the pool.
+     */
     public void closeConnection() {
+        prefetcher.shutdownNow();
+        pool.close();
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
@@ -48,8 +115,9 @@ public class PuzzleDB {
     }
 
     public void executeSql(String sql) throws SQLException {
-        Statement statement = connection.createStatement();
-        statement.executeUpdate(sql);
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
     }
 
     public ResultSet executeAndReturn(String sql) {
@@ -58,6 +126,10 @@ public class PuzzleDB {
             Statement statement = connection.createStatement();
             statement.execute(sql);
             resultSet = statement.getResultSet();
+
+            // the statement is closed along with the result set
+            if (resultSet != null) statement.closeOnCompletion();
+            else statement.close();
         } catch (SQLException e) {
             System.err.println(e.getMessage());
             e.printStackTrace();
@@ -65,29 +137,271 @@ public class PuzzleDB {
         return resultSet;
     }
 
-    public void dumpPuzzleSet() {
-        PuzzleSet[] puzzleSets = {
-                new PuzzleSet1(), new PuzzleSet2(), new PuzzleSet3(), new PuzzleSet4(), new PuzzleSet5(),
-                new PuzzleSet6(), new PuzzleSet7(), new PuzzleSet8(), new PuzzleSet9(), new PuzzleSet10(),
-                new PuzzleSet11(), new PuzzleSet12(), new PuzzleSet13(), new PuzzleSet14(), new PuzzleSet15(),
-                new PuzzleSet16(), new PuzzleSet17(), new PuzzleSet18(), new PuzzleSet19(), new PuzzleSet20(),
-                new PuzzleSet21(), new PuzzleSet22(), new PuzzleSet23(), new PuzzleSet24(), new PuzzleSet25(),
-                new PuzzleSet26(), new PuzzleSet27(), new PuzzleSet28(), new PuzzleSet29(), new PuzzleSet30(),
-                new PuzzleSet31(), new PuzzleSet32(), new PuzzleSet33(), new PuzzleSet34(), new PuzzleSet35(),
-                new PuzzleSet36(), new PuzzleSet37(), new PuzzleSet38(), new PuzzleSet39(), new PuzzleSet40(),
-                new PuzzleSet41(), new PuzzleSet42()
-        };
-        BenchMarker benchmarker = new BenchMarker();
-        for (PuzzleSet puzzleSet : puzzleSets) {
+    /**
+     * The puzzle with the id, null if there is none.
+     */
+    public Puzzle byId(long id) throws SQLException {
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            PreparedStatement statement = lease.prepare(BY_ID);
+            statement.setLong(1, id);
+            return first(statement);
+        }
+    }
+
+    /**
+     * The puzzle with the game key, null if there is none.
+     */
+    public Puzzle byKey(String gameKey) throws SQLException {
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            PreparedStatement statement = lease.prepare(BY_KEY);
+            statement.setString(1, gameKey);
+            return first(statement);
+        }
+    }
+
+    /**
+     * At most the limit of the puzzles in the order of their ids, where both players are rated from
+     * the min to the max point inclusive.
+     */
+    public List<Puzzle> byRatingRange(int min, int max, int limit) throws SQLException {
+        List<Puzzle> puzzles = new ArrayList<>();
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            PreparedStatement statement = lease.prepare(BY_RATING);
+            statement.setInt(1, min);
+            statement.setInt(2, max);
+            statement.setInt(3, min);
+            statement.setInt(4, max);
+            statement.setInt(5, limit);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) puzzles.add(Puzzle.of(resultSet));
+            }
+        }
+        return puzzles;
+    }
+
+    /**
+     * Picks at most the count of the puzzles at random of the game type, where both players are rated
+     * from the min to the max point inclusive. The game type can be null for puzzles of any type. The
+     * puzzles are in random order and there is no puzzle twice.
+     * <p>
+     * The ids in the rating band are read from an index of the {@link Migrations} and sampled as they
+     * are read, so that only the puzzles picked are read from the table. Sorting the table by random
+     * would read & sort all the puzzles in the band instead.
+     */
+    public List<Puzzle> randomPuzzles(String gameType, int min, int max, int count, Random random) throws SQLException {
+        if (count < 0) throw new IllegalArgumentException("Invalid count " + count);
+
+        List<Puzzle> puzzles = new ArrayList<>(count);
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            PreparedStatement statement = lease.prepare(gameType == null ? IDS_BY_RATING : IDS_BY_TYPE_RATING);
+            int parameter = 1;
+            if (gameType != null) statement.setString(parameter++, gameType);
+            statement.setInt(parameter++, min);
+            statement.setInt(parameter++, max);
+            statement.setInt(parameter++, min);
+            statement.setInt(parameter, max);
+
+            // reservoir sampling, each id of the band ends up in the sample by the same chance
+            long[] sample = new long[count];
+            int seen = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    long id = resultSet.getLong(1);
+                    if (seen < count) {
+                        sample[seen] = id;
+                    } else {
+                        int at = random.nextInt(seen + 1);
+                        if (at < count) sample[at] = id;
+                    }
+                    seen++;
+                }
+            }
+
+            // the first ids stay in the order of the index unless they are shuffled
+            int picked = Math.min(seen, count);
+            for (int i = picked - 1; i > 0; i--) {
+                int at = random.nextInt(i + 1);
+                long id = sample[i];
+                sample[i] = sample[at];
+                sample[at] = id;
+            }
+
+            PreparedStatement byId = lease.prepare(BY_ID);
+            for (int i = 0; i < picked; i++) {
+                byId.setLong(1, sample[i]);
+                Puzzle puzzle = first(byId);
+                if (puzzle != null) puzzles.add(puzzle);
+            }
+        }
+        return puzzles;
+    }
+
+    public List<Puzzle> randomPuzzles(String gameType, int min, int max, int count) throws SQLException {
+        return randomPuzzles(gameType, min, max, count, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Streams the puzzles of the sets from the first to the last inclusive, numbered from 1 as the
+     * sets of {@link #SET_SIZE} puzzles. The puzzles are read from the cursor as the stream goes, and
+     * the connection is returned to the pool when the stream reaches the end or is closed, so a stream
+     * which may not be read to the end must be closed, best by try-with-resources.
+     * <p>
+     * A SQLException while reading the stream is thrown as IllegalStateException.
+     */
+    public Stream<Puzzle> stream(int firstSet, int lastSet) throws SQLException {
+        if (firstSet < 1 || lastSet < firstSet)
+            throw new IllegalArgumentException("Invalid puzzle sets " + firstSet + " - " + lastSet);
+
+        ConnectionPool.Lease lease = pool.borrow();
+        ResultSet resultSet;
+        try {
+            PreparedStatement statement = lease.prepare(BY_SETS);
+            statement.setInt(1, (lastSet - firstSet + 1) * SET_SIZE);
+            statement.setInt(2, (firstSet - 1) * SET_SIZE);
+            resultSet = statement.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            lease.close();
+            throw e;
+        }
+
+        Cursor cursor = new Cursor(lease, resultSet);
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    /**
+     * At most the limit of the puzzles with ids greater than the id, in the order of their ids.
+     */
+    public List<Puzzle> pageAfter(long afterId, int limit) throws SQLException {
+        List<Puzzle> puzzles = new ArrayList<>(Math.min(limit, SET_SIZE));
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            PreparedStatement statement = lease.prepare(PAGE);
+            statement.setLong(1, afterId);
+            statement.setInt(2, limit);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) puzzles.add(Puzzle.of(resultSet));
+            }
+        }
+        return puzzles;
+    }
+
+    /**
+     * A cursor on the puzzles with ids greater than the id, reading them by pages of the fetch size.
+     * With prefetch, the next page is read in the background while the current one is iterated.
+     * Unlike {@link #stream(int, int)}, it reads each page by the last id instead of an offset, which
+     * is much faster to iterate the whole table with.
+     */
+    public PuzzleCursor cursor(long afterId, int fetchSize, boolean prefetch) {
+        return new PuzzleCursor(this::pageAfter, afterId, fetchSize, prefetch ? prefetcher : null);
+    }
+
+    /**
+     * The start of the puzzle with the id, null if there is no such puzzle or it has not been replayed
+     * yet. Serving a puzzle from its start needs no replay of its moves.
+     */
+    public PuzzleStart start(long id) throws SQLException {
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            PreparedStatement statement = lease.prepare(START_BY_ID);
+            statement.setLong(1, id);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? PuzzleStart.of(resultSet) : null;
+            }
+        }
+    }
+
+    /**
+     * Stores the starts of the puzzles along with their rows in a single transaction.
+     */
+    public void saveStarts(Collection<PuzzleStart> starts) throws SQLException {
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            Connection connection = lease.connection();
+            PreparedStatement statement = lease.prepare(UPDATE_START);
+
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
             try {
-                puzzleSet.dumpPuzzle(this);
+                for (PuzzleStart start : starts) {
+                    statement.setString(1, start.fen);
+                    statement.setLong(2, start.hash);
+                    statement.setInt(3, start.sideToMove);
+                    statement.setBytes(4, PuzzleStart.pack(start.solution));
+                    statement.setLong(5, start.id);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                statement.clearBatch();
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private static Puzzle first(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? Puzzle.of(resultSet) : null;
+        }
+    }
+
+    // reads the puzzles of a result set for a stream, closing it & returning the connection at the end
+    private static class Cursor extends Spliterators.AbstractSpliterator<Puzzle> {
+
+        private final ConnectionPool.Lease lease;
+        private final ResultSet resultSet;
+        private boolean closed;
+
+        Cursor(ConnectionPool.Lease lease, ResultSet resultSet) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.lease = lease;
+            this.resultSet = resultSet;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Puzzle> action) {
+            if (closed) return false;
+
+            Puzzle puzzle;
+            try {
+                puzzle = resultSet.next() ? Puzzle.of(resultSet) : null;
             } catch (SQLException e) {
-                System.err.printf("Problem dumping puzzle set %d\n", puzzleSet.getPuzzleSetId());
-                e.printStackTrace();
-                break;
+                close();
+                throw new IllegalStateException("Can't read the puzzle", e);
+            }
+
+            if (puzzle == null) {
+                close();
+                return false;
             }
+
+            action.accept(puzzle);
+            return true;
+        }
+
+        void close() {
+            if (closed) return;
+            closed = true;
+
+            try {
+                resultSet.close();
+            } catch (SQLException ignored) {
+
+            }
+            lease.close();
         }
-        benchmarker.log("Puzzle set insertion time");
+
+    }
+
+    /**
+     * Loads the puzzles shipped with the app into the pgn table by the {@link PuzzleLoader}. A failed
+     * load is thrown, so that nothing is made out of a table without the puzzles.
+     */
+    public PuzzleLoader.Report dumpPuzzleSet() throws IOException, SQLException {
+        return new PuzzleLoader(connection).load();
     }
 
 }
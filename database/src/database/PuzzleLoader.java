@@ -0,0 +1,185 @@
+package database;
+
+import lib.helper.Console;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Loads the puzzles into the pgn table in bulk from a gzip file of tab-separated rows. The first line
+ * of the file names the columns, which must be the same as {@link #COLUMNS}, and each line after it is
+ * a puzzle.
+ * <p>
+ * The rows are streamed from the file and inserted by one prepared statement in batches, all in a
+ * single transaction. SQLite is told not to sync to the disk & to keep its journal in memory during
+ * the load, which is safe as a failed load leaves nothing behind to keep anyway.
+ */
+
+public class PuzzleLoader {
+
+    /**
+     * The puzzles shipped with the app for the first launch.
+     */
+    public static final String RESOURCE = "/database/puzzles.tsv.gz";
+
+    public static final String[] COLUMNS = {
+            "game_key", "game_type", "white_name", "white_point", "black_name", "black_point",
+            "problem", "solution", "game_link"
+    };
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final String INSERT = "INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, " +
+            "`black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?);";
+
+    private static final String[] LOAD_PRAGMAS = {
+            "PRAGMA synchronous = OFF;",
+            "PRAGMA journal_mode = MEMORY;",
+            "PRAGMA temp_store = MEMORY;",
+            "PRAGMA cache_size = -16000;"
+    };
+
+    private static final String[] DEFAULT_PRAGMAS = {
+            "PRAGMA synchronous = FULL;",
+            "PRAGMA journal_mode = DELETE;",
+            "PRAGMA temp_store = DEFAULT;",
+            "PRAGMA cache_size = -2000;"
+    };
+
+    /**
+     * Number of the puzzles loaded and the time it took.
+     */
+    public static class Report {
+
+        public final long rows;
+        public final long nanos;
+
+        Report(long rows, long nanos) {
+            this.rows = rows;
+            this.nanos = nanos;
+        }
+
+        public double rowsPerSecond() {
+            return nanos == 0 ? 0 : rows * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d rows in %.2f sec, %.0f rows/s", rows, nanos / 1e9, rowsPerSecond());
+        }
+
+    }
+
+    private final Connection connection;
+    private final int batchSize;
+
+    public PuzzleLoader(Connection connection) {
+        this(connection, DEFAULT_BATCH_SIZE);
+    }
+
+    public PuzzleLoader(Connection connection, int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("Invalid batch size " + batchSize);
+
+        this.connection = connection;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Loads the puzzles shipped with the app, see {@link #RESOURCE}.
+     */
+    public Report load() throws IOException, SQLException {
+        InputStream in = PuzzleLoader.class.getResourceAsStream(RESOURCE);
+        if (in == null) throw new IOException("Puzzle resource " + RESOURCE + " not found");
+
+        try (in) {
+            return load(in);
+        }
+    }
+
+    /**
+     * Loads the puzzles of the gzip stream in a single transaction, which is rolled back if any row
+     * can't be read or inserted. The stream is not closed. Any change not committed on the connection
+     * before the load is committed with it.
+     */
+    public Report load(InputStream in) throws IOException, SQLException {
+        long start = System.nanoTime();
+        long rows = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(in), StandardCharsets.UTF_8));
+        checkHeader(reader.readLine());
+
+        boolean autoCommit = connection.getAutoCommit();
+        if (!autoCommit) connection.commit();
+
+        // the pragmas can't be changed within a transaction
+        connection.setAutoCommit(true);
+        pragmas(LOAD_PRAGMAS);
+
+        try {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) continue;
+                    bind(statement, line, rows + 2);
+                    statement.addBatch();
+
+                    if (++rows % batchSize == 0) statement.executeBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (IOException | SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } finally {
+            connection.setAutoCommit(true);
+            pragmas(DEFAULT_PRAGMAS);
+            connection.setAutoCommit(autoCommit);
+        }
+
+        Report report = new Report(rows, System.nanoTime() - start);
+        Console.log(PuzzleLoader.class, "loaded " + report);
+        return report;
+    }
+
+    private void pragmas(String[] pragmas) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String pragma : pragmas) statement.execute(pragma);
+        }
+    }
+
+    private static void checkHeader(String header) throws IOException {
+        if (header == null || !header.equals(String.join("\t", COLUMNS)))
+            throw new IOException("Invalid puzzle columns " + header);
+    }
+
+    private static void bind(PreparedStatement statement, String line, long lineNumber) throws IOException, SQLException {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != COLUMNS.length)
+            throw new IOException("Line " + lineNumber + " has " + fields.length + " columns instead of " + COLUMNS.length);
+
+        for (int i = 0; i < fields.length; i++) {
+            // the points are the only numbers
+            if (i == 3 || i == 5) statement.setInt(i + 1, point(fields[i], lineNumber));
+            else statement.setString(i + 1, fields[i]);
+        }
+    }
+
+    private static int point(String field, long lineNumber) throws IOException {
+        try {
+            return Integer.parseInt(field);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid point " + field + " on line " + lineNumber);
+        }
+    }
+
+}
@@ -0,0 +1,435 @@
+package database;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A read-only pack of the puzzles in a binary file, which is mapped into the memory so that a puzzle
+ * is read right from the file without going through JDBC. Opening a pack only maps the file & reads
+ * its header, and a puzzle is found by its position, id or game key by a lookup in the mapped file.
+ * <p>
+ * The moves are packed as 16-bit codes of the distinct moves of the whole pack such as "Nxe5+", so a
+ * move is read as a code and turned into the same String object every time. The file has these
+ * sections, all little-endian:
+ * <pre>
+ *     header     magic, version, number of puzzles, width of the keys, number of the moves & the
+ *                offsets of the sections below
+ *     records    20 bytes for each puzzle by the id: id, index of the first move code, plies of
+ *                the problem & the solution, points of white & black and the code of the game type
+ *     keys       the game keys of the records in the same order, padded with 0 to the key width
+ *     key index  the positions of the records sorted by their keys for binary search
+ *     moves      the offsets of the distinct moves in UTF-8 followed by the moves themselves
+ *     codes      the move codes of all the puzzles one after another
+ * </pre>
+ * The game type is kept as a code of the moves too, since there are only a few of them.
+ * <p>
+ * The pack is written from the pgn table by {@link #convert(Connection, Path)}. It is safe to read a
+ * pack on many threads.
+ */
+
+public class PuzzlePack implements Closeable {
+
+    public static final int MAGIC = 0x50505A54;
+    public static final int VERSION = 1;
+
+    private static final int HEADER = 64;
+    private static final int RECORD = 20;
+
+    // the fields of the header
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_COUNT = 8;
+    private static final int H_KEY_WIDTH = 12;
+    private static final int H_MOVE_COUNT = 16;
+    private static final int H_RECORDS = 20;
+    private static final int H_KEYS = 24;
+    private static final int H_MOVES = 28;
+    private static final int H_CODES = 32;
+    private static final int H_KEY_INDEX = 36;
+
+    // the fields of a record
+    private static final int R_ID = 0;
+    private static final int R_FIRST_CODE = 4;
+    private static final int R_PROBLEM_PLIES = 8;
+    private static final int R_SOLUTION_PLIES = 10;
+    private static final int R_WHITE_POINT = 12;
+    private static final int R_BLACK_POINT = 14;
+    private static final int R_GAME_TYPE = 16;
+
+    /**
+     * A puzzle as it is in the pgn table, for writing a pack.
+     */
+    public static class Row {
+
+        public final long id;
+        public final String gameKey;
+        public final String gameType;
+        public final int whitePoint, blackPoint;
+
+        // the moves separated by commas
+        public final String problem, solution;
+
+        public Row(long id, String gameKey, String gameType, int whitePoint, int blackPoint, String problem, String solution) {
+            this.id = id;
+            this.gameKey = gameKey;
+            this.gameType = gameType;
+            this.whitePoint = whitePoint;
+            this.blackPoint = blackPoint;
+            this.problem = problem;
+            this.solution = solution;
+        }
+
+    }
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    private final int count, keyWidth, moveCount;
+    private final int records, keys, keyIndex, moves, codes;
+
+    // the distinct moves decoded from the file as they are asked for
+    private final String[] moveCache;
+
+    private PuzzlePack(FileChannel channel, MappedByteBuffer buffer) throws IOException {
+        this.channel = channel;
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.capacity() < HEADER || buffer.getInt(H_MAGIC) != MAGIC)
+            throw new IOException("Not a puzzle pack");
+        if (buffer.getInt(H_VERSION) != VERSION)
+            throw new IOException("Unsupported puzzle pack version " + buffer.getInt(H_VERSION));
+
+        count = buffer.getInt(H_COUNT);
+        keyWidth = buffer.getInt(H_KEY_WIDTH);
+        moveCount = buffer.getInt(H_MOVE_COUNT);
+        records = buffer.getInt(H_RECORDS);
+        keys = buffer.getInt(H_KEYS);
+        keyIndex = buffer.getInt(H_KEY_INDEX);
+        moves = buffer.getInt(H_MOVES);
+        codes = buffer.getInt(H_CODES);
+        moveCache = new String[moveCount];
+    }
+
+    /**
+     * Maps the pack file into the memory. It throws IOException if the file is not a pack of this
+     * version.
+     */
+    public static PuzzlePack open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new PuzzlePack(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Number of the puzzles, which are at the positions from 0 to size - 1 in the order of their ids.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * The position of the puzzle with the id, -1 if there is none.
+     */
+    public int indexOfId(long id) {
+        int low = 0, high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = id(mid);
+            if (midId < id) low = mid + 1;
+            else if (midId > id) high = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    /**
+     * The position of the puzzle with the game key, -1 if there is none.
+     */
+    public int indexOfKey(String gameKey) {
+        if (gameKey.length() > keyWidth) return -1;
+
+        int low = 0, high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int index = buffer.getInt(keyIndex + mid * 4);
+            int compare = compareKey(keys + index * keyWidth, gameKey);
+            if (compare < 0) low = mid + 1;
+            else if (compare > 0) high = mid - 1;
+            else return index;
+        }
+        return -1;
+    }
+
+    public long id(int index) {
+        return buffer.getInt(record(index) + R_ID) & 0xFFFFFFFFL;
+    }
+
+    public String gameKey(int index) {
+        record(index);
+
+        int at = keys + index * keyWidth, length = 0;
+        while (length < keyWidth && buffer.get(at + length) != 0) length++;
+
+        byte[] bytes = new byte[length];
+        buffer.get(at, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    public String gameType(int index) {
+        return move(buffer.getShort(record(index) + R_GAME_TYPE) & 0xFFFF);
+    }
+
+    public int whitePoint(int index) {
+        return buffer.getShort(record(index) + R_WHITE_POINT) & 0xFFFF;
+    }
+
+    public int blackPoint(int index) {
+        return buffer.getShort(record(index) + R_BLACK_POINT) & 0xFFFF;
+    }
+
+    public int problemPlies(int index) {
+        return buffer.getShort(record(index) + R_PROBLEM_PLIES) & 0xFFFF;
+    }
+
+    public int solutionPlies(int index) {
+        return buffer.getShort(record(index) + R_SOLUTION_PLIES) & 0xFFFF;
+    }
+
+    /**
+     * The move of the puzzle at the ply, counting the plies of the problem first and then of the
+     * solution. The same move is always the same String object.
+     */
+    public String move(int index, int ply) {
+        int record = record(index);
+        int plies = (buffer.getShort(record + R_PROBLEM_PLIES) & 0xFFFF) + (buffer.getShort(record + R_SOLUTION_PLIES) & 0xFFFF);
+        if (ply < 0 || ply >= plies) throw new IndexOutOfBoundsException("No ply " + ply + " in puzzle " + index);
+
+        int code = buffer.getShort(codes + (buffer.getInt(record + R_FIRST_CODE) + ply) * 2) & 0xFFFF;
+        return move(code);
+    }
+
+    /**
+     * The moves of the problem separated by commas, as they are in the pgn table.
+     */
+    public String problem(int index) {
+        return join(index, 0, problemPlies(index));
+    }
+
+    public String solution(int index) {
+        int problem = problemPlies(index);
+        return join(index, problem, problem + solutionPlies(index));
+    }
+
+    /**
+     * The moves of the problem followed by the ones of the solution, separated by commas.
+     */
+    public String pgn(int index) {
+        return join(index, 0, problemPlies(index) + solutionPlies(index));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int record(int index) {
+        if (index < 0 || index >= count) throw new IndexOutOfBoundsException("No puzzle " + index + " of " + count);
+        return records + index * RECORD;
+    }
+
+    private String move(int code) {
+        String move = moveCache[code];
+        if (move != null) return move;
+
+        int from = buffer.getInt(moves + code * 4), to = buffer.getInt(moves + code * 4 + 4);
+        byte[] bytes = new byte[to - from];
+        buffer.get(moves + (moveCount + 1) * 4 + from, bytes);
+
+        move = new String(bytes, StandardCharsets.UTF_8);
+        moveCache[code] = move;
+        return move;
+    }
+
+    private String join(int index, int from, int to) {
+        StringBuilder builder = new StringBuilder((to - from) * 6);
+        for (int ply = from; ply < to; ply++) {
+            if (ply > from) builder.append(',');
+            builder.append(move(index, ply));
+        }
+        return builder.toString();
+    }
+
+    private int compareKey(int at, String key) {
+        for (int i = 0; i < keyWidth; i++) {
+            int stored = buffer.get(at + i) & 0xFF;
+            int wanted = i < key.length() ? key.charAt(i) : 0;
+            if (stored != wanted) return stored - wanted;
+        }
+        return 0;
+    }
+
+    /**
+     * Writes the pack of all the puzzles in the pgn table of the connection to the path and returns
+     * the number of the puzzles in it. Nothing is written for an empty table, as an empty pack would
+     * be taken for the puzzles.
+     */
+    public static int convert(Connection connection, Path path) throws IOException, SQLException {
+        List<Row> rows = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT `id`, `game_key`, `game_type`, `white_point`, " +
+                     "`black_point`, `problem`, `solution` FROM `pgn` ORDER BY `id`")) {
+            while (resultSet.next()) {
+                rows.add(new Row(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                        resultSet.getInt(4), resultSet.getInt(5), resultSet.getString(6), resultSet.getString(7)));
+            }
+        }
+
+        if (!rows.isEmpty()) write(rows, path);
+        return rows.size();
+    }
+
+    /**
+     * Writes the pack of the rows to the path. The file is written next to the path first and then
+     * moved over it, so a pack being read is never seen half written.
+     */
+    public static void write(List<Row> rows, Path path) throws IOException {
+        Row[] sorted = rows.toArray(new Row[0]);
+        Arrays.sort(sorted, (a, b) -> Long.compare(a.id, b.id));
+
+        Map<String, Integer> codeOf = new HashMap<>();
+        List<String> moveList = new ArrayList<>();
+
+        int keyWidth = 1, codeCount = 0;
+        int[][] plies = new int[sorted.length][];
+        for (int i = 0; i < sorted.length; i++) {
+            Row row = sorted[i];
+            if (i > 0 && row.id == sorted[i - 1].id) throw new IllegalArgumentException("Duplicate puzzle id " + row.id);
+            if (row.id < 0 || row.id > 0xFFFFFFFFL) throw new IllegalArgumentException("Invalid puzzle id " + row.id);
+            if (!row.gameKey.matches("[\\x01-\\x7F]+")) throw new IllegalArgumentException("Invalid game key " + row.gameKey);
+            checkPoint(row.whitePoint, row);
+            checkPoint(row.blackPoint, row);
+
+            keyWidth = Math.max(keyWidth, row.gameKey.length());
+            code(row.gameType, codeOf, moveList);
+
+            String[] problem = split(row.problem), solution = split(row.solution);
+            if (problem.length > 0xFFFF || solution.length > 0xFFFF)
+                throw new IllegalArgumentException("Too many moves in puzzle " + row.id);
+
+            plies[i] = new int[problem.length + solution.length + 2];
+            plies[i][0] = problem.length;
+            plies[i][1] = solution.length;
+            for (int p = 0; p < problem.length; p++) plies[i][2 + p] = code(problem[p], codeOf, moveList);
+            for (int s = 0; s < solution.length; s++) plies[i][2 + problem.length + s] = code(solution[s], codeOf, moveList);
+            codeCount += problem.length + solution.length;
+        }
+
+        byte[][] moveBytes = new byte[moveList.size()][];
+        int moveBlob = 0;
+        for (int i = 0; i < moveBytes.length; i++) {
+            moveBytes[i] = moveList.get(i).getBytes(StandardCharsets.UTF_8);
+            moveBlob += moveBytes[i].length;
+        }
+
+        int records = HEADER;
+        int keys = records + sorted.length * RECORD;
+        int keyIndex = keys + sorted.length * keyWidth;
+        int moves = keyIndex + sorted.length * 4;
+        int codes = moves + (moveBytes.length + 1) * 4 + moveBlob;
+        long size = codes + codeCount * 2L;
+        if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("Too many puzzles for a pack");
+
+        ByteBuffer out = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(H_MAGIC, MAGIC);
+        out.putInt(H_VERSION, VERSION);
+        out.putInt(H_COUNT, sorted.length);
+        out.putInt(H_KEY_WIDTH, keyWidth);
+        out.putInt(H_MOVE_COUNT, moveBytes.length);
+        out.putInt(H_RECORDS, records);
+        out.putInt(H_KEYS, keys);
+        out.putInt(H_MOVES, moves);
+        out.putInt(H_CODES, codes);
+        out.putInt(H_KEY_INDEX, keyIndex);
+
+        int firstCode = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            Row row = sorted[i];
+            int at = records + i * RECORD;
+            out.putInt(at + R_ID, (int) row.id);
+            out.putInt(at + R_FIRST_CODE, firstCode);
+            out.putShort(at + R_PROBLEM_PLIES, (short) plies[i][0]);
+            out.putShort(at + R_SOLUTION_PLIES, (short) plies[i][1]);
+            out.putShort(at + R_WHITE_POINT, (short) row.whitePoint);
+            out.putShort(at + R_BLACK_POINT, (short) row.blackPoint);
+            out.putShort(at + R_GAME_TYPE, (short) (int) codeOf.get(row.gameType));
+            out.put(keys + i * keyWidth, row.gameKey.getBytes(StandardCharsets.US_ASCII));
+
+            for (int p = 2; p < plies[i].length; p++) out.putShort(codes + (firstCode++) * 2, (short) plies[i][p]);
+        }
+
+        Integer[] byKey = new Integer[sorted.length];
+        for (int i = 0; i < byKey.length; i++) byKey[i] = i;
+        Arrays.sort(byKey, (a, b) -> sorted[a].gameKey.compareTo(sorted[b].gameKey));
+        for (int i = 0; i < byKey.length; i++) {
+            if (i > 0 && sorted[byKey[i]].gameKey.equals(sorted[byKey[i - 1]].gameKey))
+                throw new IllegalArgumentException("Duplicate game key " + sorted[byKey[i]].gameKey);
+
+            out.putInt(keyIndex + i * 4, byKey[i]);
+        }
+
+        int offset = 0, blob = moves + (moveBytes.length + 1) * 4;
+        for (int i = 0; i < moveBytes.length; i++) {
+            out.putInt(moves + i * 4, offset);
+            out.put(blob + offset, moveBytes[i]);
+            offset += moveBytes[i].length;
+        }
+        out.putInt(moves + moveBytes.length * 4, offset);
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temp, out.array());
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static int code(String move, Map<String, Integer> codeOf, List<String> moveList) {
+        Integer code = codeOf.get(move);
+        if (code != null) return code;
+
+        if (moveList.size() > 0xFFFF) throw new IllegalArgumentException("Too many distinct moves for a pack");
+        code = moveList.size();
+        moveList.add(move);
+        codeOf.put(move, code);
+        return code;
+    }
+
+    private static String[] split(String moves) {
+        if (moves == null || moves.isEmpty()) return new String[0];
+        return moves.split(",");
+    }
+
+    private static void checkPoint(int point, Row row) {
+        if (point < 0 || point > 0xFFFF) throw new IllegalArgumentException("Invalid point " + point + " of puzzle " + row.id);
+    }
+
+}
@@ -0,0 +1,97 @@
+package database;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The position a puzzle starts from, which is the position after the moves of its problem, along with
+ * the moves of its solution. It is made by replaying the puzzle once offline, so that a puzzle can be
+ * set up from its FEN & played by its moves without replaying any of its SAN moves.
+ * <p>
+ * A solution move is packed in 16 bits as the from square, the to square and the type the pawn gets
+ * promoted to. The squares are the int squares of the engine, from a1 at 0, b1 at 1 up to h8 at 63,
+ * rank by rank as tanzi.model.Square numbers them. The promotion is the piece type plus one, zero
+ * for no promotion.
+ */
+
+public class PuzzleStart {
+
+    public final long id;
+    public final String fen;
+    public final long hash;
+    public final int sideToMove;
+    public final short[] solution;
+
+    public PuzzleStart(long id, String fen, long hash, int sideToMove, short[] solution) {
+        this.id = id;
+        this.fen = fen;
+        this.hash = hash;
+        this.sideToMove = sideToMove;
+        this.solution = solution;
+    }
+
+    /**
+     * Reads the start of the current row of the result set, which must have the id & the start
+     * columns of the pgn table. It is null if the puzzle has not been replayed yet.
+     */
+    static PuzzleStart of(ResultSet resultSet) throws SQLException {
+        String fen = resultSet.getString("start_fen");
+        if (fen == null) return null;
+
+        return new PuzzleStart(
+                resultSet.getLong("id"),
+                fen,
+                resultSet.getLong("start_hash"),
+                resultSet.getInt("side_to_move"),
+                unpack(resultSet.getBytes("solution_moves"))
+        );
+    }
+
+    public int solutionPlies() {
+        return solution.length;
+    }
+
+    public static short move(int from, int to, int promotionType) {
+        return (short) (from | to << 6 | (promotionType + 1) << 12);
+    }
+
+    public static int from(short move) {
+        return move & 0x3f;
+    }
+
+    public static int to(short move) {
+        return move >>> 6 & 0x3f;
+    }
+
+    /**
+     * The type the pawn gets promoted to by the move, -1 for no promotion.
+     */
+    public static int promotionType(short move) {
+        return (move >>> 12 & 0xf) - 1;
+    }
+
+    // the moves as they are kept in the database, two bytes for each in big-endian order
+    static byte[] pack(short[] moves) {
+        byte[] bytes = new byte[moves.length * 2];
+        for (int i = 0; i < moves.length; i++) {
+            bytes[i * 2] = (byte) (moves[i] >>> 8);
+            bytes[i * 2 + 1] = (byte) moves[i];
+        }
+        return bytes;
+    }
+
+    static short[] unpack(byte[] bytes) {
+        if (bytes == null) return new short[0];
+
+        short[] moves = new short[bytes.length / 2];
+        for (int i = 0; i < moves.length; i++)
+            moves[i] = (short) ((bytes[i * 2] & 0xff) << 8 | bytes[i * 2 + 1] & 0xff);
+        return moves;
+    }
+
+    @Override
+    public String toString() {
+        return "PuzzleStart " + id + " " + fen;
+    }
+
+}
@@ -14,4 +14,23 @@ public class TableQuery {
             "'solution' TEXT, " +
             "'game_link' TEXT, " +
             "PRIMARY KEY('id' AUTOINCREMENT));";
+
+    /*
+     * the puzzles are selected by the game type & the points of both players. the ids come with the
+     * entries of an index, so these indexes cover the selection of the ids without reading the table.
+     * */
+    public static final String INDEX_PUZZLE_TYPE_RATING = "CREATE INDEX IF NOT EXISTS 'pgn_type_rating' " +
+            "ON 'pgn' ('game_type', 'white_point', 'black_point');";
+
+    public static final String INDEX_PUZZLE_RATING = "CREATE INDEX IF NOT EXISTS 'pgn_rating' " +
+            "ON 'pgn' ('white_point', 'black_point');";
+
+    /*
+     * the position each puzzle starts from, made by replaying the problem once offline, so that a
+     * puzzle can be served without replaying its moves. they are null until the puzzle is replayed.
+     * */
+    public static final String COLUMN_START_FEN = "ALTER TABLE 'pgn' ADD COLUMN 'start_fen' TEXT;";
+    public static final String COLUMN_START_HASH = "ALTER TABLE 'pgn' ADD COLUMN 'start_hash' INTEGER;";
+    public static final String COLUMN_SIDE_TO_MOVE = "ALTER TABLE 'pgn' ADD COLUMN 'side_to_move' INTEGER;";
+    public static final String COLUMN_SOLUTION_MOVES = "ALTER TABLE 'pgn' ADD COLUMN 'solution_moves' BLOB;";
 }
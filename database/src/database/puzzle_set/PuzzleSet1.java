@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet1 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00206', 'Rapid', 'Brezje', 1621, 'test_test', 1609, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,Nh5,Bg5,f6,Bh4,g5,Ne5,Nxe5,Qxh5+,Nf7,Bg3,Bf5,c4,Qd7,Nc3', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/00206');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00aDl', 'Rapid', 'manzoortma', 1695, 'DerRandspringer', 1665, 'd4,Nf6,Nc3,d5,Nf3,c6,e3,Bg4,Be2,e6,h3,Bf5,Nh4,Bg6,Nxg6,hxg6,Qd3,Bd6,Bd2,Nbd7,O-O-O,Nb6,e4,a5,e5,Bb4,exf6,gxf6,Bf3,Nc4,a3,O-O,axb4,axb4,Nb1,Qa5,Qb3,Qa1,Bxb4,Ra2,Bc3,Rfa8,Be2', 'Qxb1+,Kxb1,Ra1#', 'https://lichess.org/training/00aDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00BM8', 'Blitz', 'rambopiolin', 1728, 'FM Arvinder_Amateur', 1742, 'e4,c6,Nc3,d6,Nf3,e5,Bc4,Be7,d3,Nf6,h3,O-O,O-O,Be6,Be3,Bxc4,dxc4,Nbd7,Nd2,Nc5,f4,exf4,Bxf4,Ne6,Bh2,Qb6+,Kh1,Qxb2,Na4,Qa3,c3,Rad8', 'Nb1,Qxa4,Qxa4', 'https://lichess.org/training/00BM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00bnu', 'Rapid', 'obanebane', 1704, 'Sipo', 1619, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,d6,a3,Nf6,d3,a6,Bg5,b5,Ba2,g6,Qd2,Be7,O-O-O,O-O,d4,cxd4,Nxd4,Nxd4,Qxd4,Bb7,e5,dxe5,Qxe5,Nd7,Bxe7,Qxe7,Qc7,Bxg2,Rxd7,Qg5+,f4,Rac8,Qxc8', 'Qxf4+,Kb1,Rxc8', 'https://lichess.org/training/00bnu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00IUT', 'Rapid', 'musz_DeeN', 1896, 'Ghaly_Nabil', 1978, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Nxc3,bxc3,Bxc3,Bxf7+,Kxf7,Qb3+,d5,Qxc3,Re8,Ne5+,Nxe5,dxe5,Kg8,f4,d4,Qc4+,Be6,Qb4,Rb8,Rd1,Qe7,Rxd4', 'c5,Qa3,cxd4,Qxe7,Rxe7', 'https://lichess.org/training/00IUT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00ivI', 'Rapid', 'albertik1959', 1893, 'RyanM', 1833, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,h6,O-O,Be6,Be3,Be7,a4,Nbd7,a5,O-O,f3,Qc7,Nd5,Nxd5,exd5,Bf5,Bd3,Bxd3,Qxd3,Rac8,c3,f5,Rad1,Qc4,Qc2,Nf6,Nd2,Qxd5,Qxf5,Qxa5', 'Qe6+,Kh7,Qxe7', 'https://lichess.org/training/00ivI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00jHX', 'Rapid', 'anpiven58', 1952, 'intermilano', 1898, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Bg5,Qxe2+,Bxe2,Be7,Nc3,c6,Kf1,h6,Bd2,Na6,a3,O-O,g3,Bh3+,Kg1,Kh8,Bf1,Bg4,Bg2,d5,h3,Bd7,Kh2,Bd6,Rhe1,Rfe8,Rxe8+,Rxe8,Re1,Rxe1,Nxe1,Nc5,Nf3,b6,Ne2,a5,b4,axb4,Bxb4,Bc7,Nc3,Ne6,Ne2,c5,Bc3,d4,Bd2,Ba4,c3,Bd1,Bf1,dxc3,Bxc3,Nh7,Ne5,Bc2,Nxf7+,Kg8,Ne5,Neg5,Nf4', 'Bxe5,Bxe5,Nf3+,Kg2,Nxe5', 'https://lichess.org/training/00jHX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00jPH', 'Rapid', 'vw2', 1687, 'Ura34', 1622, 'e4,e6,Nf3,h6,Bb5,a6,Ba4,b5,Bb3,Bb7,O-O,c5,a3,c4,Ba2,g5,d3,g4,Ne1,cxd3,cxd3,h5,d4,Ne7,Bg5,Bh6,Bxh6,Rxh6,Qd2,Rg6,Nc3,Nbc6,Rd1,Qc7,e5,O-O-O,Bb1,Rgg8,Ne4,h4,Rc1,Nf5,Nf6,Rh8,Nxg4,Ncxd4,Rxc7+,Kxc7,Qc3+,Kb8,Bxf5', 'Ne2+,Kh1,Nxc3', 'https://lichess.org/training/00jPH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00LOy', 'Rapid', 'pavanvashi7', 1999, 'animarlin', 1980, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bf4,c6,Bc4,Bg4,f3,Bh5,Nge2,e6,Bg5,Be7,Ng3,Bg6,O-O,O-O,Nge2,c5,dxc5,Bxc5+,Kh1,Be7,Rc1,Nc6,Nf4,Qxd1,Rfxd1,Rfd8,Rxd8+,Rxd8,Nxg6,hxg6,Nb5,a6,Nc3,Rd4,Bb3,Na5,Be3,Nxb3,axb3,Rd7,Kg1,Nd5,Nxd5,Rxd5,Kf2,Bg5,f4,Bf6,c3,Kf8,Ke2,g5,c4,Ra5,Rc2,gxf4,Bxf4,Be5', 'b4,Ra1,Bxe5', 'https://lichess.org/training/00LOy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00rB5', 'Blitz', 'felipe2823', 2000, 'CM r-morais', 1877, 'Nf3,c5,d4,cxd4,Nxd4,Nc6,c4,d6,Nc3,Nf6,g3,a6,Bg2,Bd7,O-O,g6,e4,Bg7,Nxc6,Bxc6,Kh1,O-O,f4,Rc8,f5,b5,cxb5,Bxb5,Nxb5,axb5,fxg6,hxg6,Bg5,Qb6,Bxf6,Bxf6,Rb1,Rc5,b4,Rc4,a3,Rfc8,Qg4,Qe3,Rfe1,Rc1', 'Qxc8+,Rxc8,Rxe3', 'https://lichess.org/training/00rB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00rva', 'Rapid', 'kaskaskas', 1731, 'morteza-zr2', 1814, 'd4,d5,c4,Nf6,Nc3,Bf5,Qb3,dxc4,Qb5+,Bd7,Qxb7,Nc6,Nb5,Rb8', 'Nxc7+,Qxc7,Qxc7', 'https://lichess.org/training/00rva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('00voi', 'Blitz', 'hruotane', 2211, 'Blackburn95', 2009, 'g3,d6,Bg2,g6,d3,Bg7,Nc3,Nf6,e4,O-O,h3,e5,Be3,c6,Qd2,b5,Nf3,Re8,g4,b4,Ne2,a5,Ng3,d5,O-O,dxe4,dxe4,Qxd2,Nxd2,Ba6,Rfd1,Nbd7,Nb3,a4,Nc5,Nxc5,Bxc5,Rab8,b3,a3,Bf1,Bc8,f3,Be6,c3,bxc3,Rac1,Nd7,Bd6,Rb7,Rxc3,Bf8,Bxf8,Kxf8,Rdc1,c5,Nf5,gxf5,gxf5,Bxf5,exf5,Ke7,Rc4,Kf6,Ra4,Rc7,Rxa3,Nb6,Ra6,Rb8,Bd3,Kg5,Kf2,Nd5,Rg1+,Kh5,Rg7,h6,Rh7,Nf4,Raxh6+,Kg5,Bf1,c4,Bxc4,Rxc4', 'h4+,Kxf5,Rxf7#', 'https://lichess.org/training/00voi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('01B8l', 'Rapid', 'vopaev', 1878, 'Dusty_Crevice', 1830, 'd4,Nf6,c4,e6,e3,b6,Nf3,Bb7,Be2,d5,cxd5,exd5,Nc3,Be7,O-O,O-O,Ne5,Nbd7,Ng4,Nxg4,Bxg4,Nf6,Bf3,Ne4,Bd2,Nxd2,Qxd2,Qd7,b3,Rfd8,Rac1,Rac8,Qe2,c5,Bg4,f5,Bf3,c4,Rc2,b5,g3,b4,Na4,Ba6,Rfc1,cxb3,Qxa6,bxc2,Qa5,Qc7,Bxd5+,Kh8,Qb5,Qd7,Qxd7,Rxd7,Bb3,Rdc7,Nb2,a5,Kf1,g5,Ke2,f4,Kd3,Rc3+,Ke4,fxe3,fxe3,Bf6,Na4,Re8+,Kf5,Kg7,Nxc3,bxc3,Rxc2,Rxe3,d5,Rd3,Ke4,Rd4+,Ke3,Rb4,h3,h5,Kd3,g4,hxg4,Rxg4,Rh2,Rxg3+,Kc4,h4,d6,h3,d7,Kf8,Re2,Be7,Kb5,Rg2,Re4,c2', 'Rf4+,Kg7,Rf7+', 'https://lichess.org/training/01B8l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('01Btz', 'Classical', 'Eidol', 2007, 'WildGooseChess', 2125, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,f3,Be6,Nd5,Bxd5,exd5,Nbd7,Qd2,Rc8,g4,Nb6,Bxb6,Qxb6,g5,Nh5,O-O-O,Nf4,h4,a5,a4', 'Qxb3,Bb5+,Kf8', 'https://lichess.org/training/01Btz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('01GBu', 'Rapid', 'ankarali_namik', 1720, 'aprozac', 1707, 'e4,c5,Bc4,g6,Nf3,Bg7,c3,a6,d4,cxd4,cxd4,e6,Nc3,Ne7,Bg5,O-O,O-O,Nbc6,Re1,b5,Bb3,Bb7,d5,exd5,Bxd5,Qc7,Bxc6,Nxc6,Rc1,f6,Bh4,Qb6,Nd5,Qa5,Qb3,Kh8,Rc2,Rae8,Rce2,Ne5,Nxe5,Rxe5,Bg3,Bxd5,exd5', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/01GBu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('01J3q', 'Blitz', 'Soul_Slayer', 1912, 'arceganoel60', 1860, 'Nf3,Nf6,b3,d5,Bb2,g6,e3,Bg7,Be2,O-O,O-O,c6,d4,Bf5,c4,Nbd7,Nbd2,Re8,Nh4,Be6,Bd3,Nb6,c5,Nbd7,f4,Bg4,Qe1,h5,h3,Be6,f5,gxf5,Bxf5,Nf8,Bxe6,Nxe6,Nf5,Nf8,Nf3,Ng6,N3h4,Qc7,Qf2,Ne4,Nh6+,Bxh6', 'Qxf7+,Kh8,Nxg6#', 'https://lichess.org/training/01J3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('01MKa', 'Rapid', 'rk_8880', 1820, 'Lalo1', 1793, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb3,Nxb3,axb3,Nxd5,Ne4,Be7,d3,O-O,Nbc3,Nf6,O-O,b6,Bg5,Bb7,Qf3,Nxe4,Bxe7,Qxe7,Nxe4,f5,Nf6+,Qxf6,Qxb7,Qd6,Rxa7,Rxa7,Qxa7,Qc6,Rc1', 'Ra8,Qxa8+,Qxa8', 'https://lichess.org/training/01MKa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('01PI9', 'Rapid', 'mohammadsalemeh', 1996, 'amrhany1', 1912, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Nd7,Bg5,Ne7,Nbd2,h6,Bh4,g5,Bg3,Nf5,O-O-O,Qb6,Nb3,a6,h4,Nxg3,fxg3,g4,Nh2,h5,Rhf1,Bg7,Rf4,Bh6,Rf1,Bxf4+,Rxf4,Rf8,Nf1,O-O-O,Ne3,Qc7,Nd1,Nb6,Nc3,Nc4,Nd2,Nxd2,Qxd2,Rh8,Na4,Rdf8,Nc5,Rh7', 'Nxe6,fxe6,Rxf8+', 'https://lichess.org/training/01PI9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('028B5', 'Blitz', 'Godsafetheking', 2015, 'Xilef92', 2071, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qd1,Nf6,Nc3,d6,Bg5,Be6,Qd2,h6,Bxf6,gxf6,O-O-O,O-O-O,Kb1,f5,exf5,Bxf5,Nd5,Qg5,Qc3,Kb8,Bxa6,Rc8,Qb3,Na5,Qb6,Rxc2,Ka1,Rc6,Qxa5,Rxa6,Qc7+,Ka8,Nb6+,Ka7,Rxd6,Qxg2,Rc1,Qe4,Nc4,Rc8', 'Rxa6+,Kxa6,Qa5#', 'https://lichess.org/training/028B5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('02DwR', 'Rapid', 'miklov', 1950, 'ivan609', 2049, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Qxd4,e6,Nf3,Nc6,Qa4,Bc5,b4,Bb6,b5,Na5,c4,Ne7,Be2,d5,exd6,Qxd6,O-O,a6,Rd1,Qc7,Bb2,O-O,Nc3,Bd7,Rac1,Rfc8,Ne4,Be8,c5,axb5,Bxb5,Nac6,cxb6,Qxb6,Qb3,Na5,Qb4,Nd5,Rxc8,Rxc8,Bd4,Qxb5,Qxb5,Bxb5,Nd6,Be2,Nxc8,Bxd1,Nb6,Bxf3,gxf3,Nc6,Nxd5,Nxd4,Nb4,Nxf3+,Kg2,Nd4,f4,b5,Kf2,f6,Ke3,Nf5+,Ke4,Kf7,Nc6,Ke8,Nd4,Nd6+,Kd3,Kd7,Kc3,Kc7,Kb4,Kb6,Nf3,Nc4,Nd4,e5,fxe5,fxe5,Nxb5,Nd2,a4,e4,a5+,Ka6,Nc7+,Kb7,Nd5,g5,Kb5,h5,a6+,Ka7,Nb4,e3,Nc6+,Ka8,Nd4,g4,Kb6,h4,a7,g3,hxg3,hxg3,Nb5,Nc4+', 'Ka6,e2,Nc7#', 'https://lichess.org/training/02DwR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('02Inh', 'Rapid', 'isaac-pann', 1622, 'Jeyhun9544', 1610, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Bb7,f3,Qc7,Bg5,Qe5,Bxf6,Qxf6,Qd3,Rd8,O-O-O,d5,exd5,cxd5,Nxd5,Bxd5', 'Qb5+,Bc6,Rxd8+,Kxd8,Qb8+', 'https://lichess.org/training/02Inh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('02kCY', 'Rapid', 'zuribaltzainaki', 1826, 'had1111', 1835, 'd4,d5,Bf4,Nf6,e3,Nc6,c4,e6,Nc3,Bb4,Nf3,O-O,Be2,Re8,O-O,Bxc3,bxc3,Ne4,Qc2,f5,Rab1,Rf8,h3,Rf6,Bd3,Na5,cxd5,exd5,Ne5,c6,f3,Nd6,Bg5,Qf8,c4,Re6,cxd5,cxd5,Qc5,Nac4,Nxc4,Nxc4,Bxc4,Qxc5,dxc5,dxc4,Rfd1,Re8,Rd4,Be6,Rxb7,c3,a3,c2,e4,Rac8,Rb5,fxe4,fxe4,Red8,Rbb4,Rxd4,Rxd4,Rxc5,Bc1,Kf7,Kf2,a5,Ke3,a4,Kd2,Bb3,Bb2,h5,Rd7+,Ke6,Rxg7,Rc4,Rg8,Rxe4,Re8+,Kf5,Rxe4,Kxe4,Ke2,Kf4,Bc1+,Kg3,Kf1,Bc4+,Kg1,Kh4', 'Kh2,Bf1,g3#', 'https://lichess.org/training/02kCY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('02MML', 'Classical', 'railway', 1988, 'cinarse12345', 1831, 'e4,e5,Bc4,Nf6,d4,Bd6,dxe5,Bxe5,f4,Nxe4,fxe5,Qh4+,g3,Nxg3,Nf3,Qe4+,Kf2', 'Nxh1+,Qxh1,Qxc4', 'https://lichess.org/training/02MML');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('02n1N', 'Rapid', 'David444', 2135, 'edwincino', 1832, 'e4,d5,exd5,Qxd5,Nf3,Nf6,Be2,Bg4,O-O,c6,d4,e6,Re1,Be7,c4,Qd8,Be3,Nbd7,Nc3,O-O,Qb3,b6,Rad1,Qc8,Bg5,h6,Bh4,Qb7,Ne5,Bxe2,Rxe2,Rac8,Red2,Rfd8,f4,a6,Bf2,b5,c5,Nd5,g3,N7f6,Re2,Nh5,Qc2,b4,Ne4,a5,Nc4,Ra8,Ned6,Bxd6,Nxd6,Qe7,f5,Rxd6,cxd6,Qxd6,fxe6,fxe6,Rde1,Re8,Qg6,Nhf6,g4', 'Nf4,Qxe8+,Nxe8', 'https://lichess.org/training/02n1N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('02O8w', 'Rapid', 'Akash_Kar', 1806, 'erfiguer', 1802, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,c3,Bd7,d4,exd4,cxd4,Bb6,Nc3,h6,e5,Nge7,exd6,cxd6,Bc4,O-O,Be3,Nf5,Qd2,Nxe3,fxe3,Ne7,Bd3,Ng6,Ne4,Bf5,Rac1,Bxe4,Bxe4,d5,Bd3,Ba5,Qf2,b6,a3,b5,Bxb5,a6,Bd3,Qb6,Rc2,Qb3,Rd1,Rac8,Rxc8', 'Qxd1+,Qf1,Qxf1+,Kxf1,Rxc8', 'https://lichess.org/training/02O8w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('02ooN', 'Blitz', 'GM MrOlka', 2622, 'tinotinotino', 2542, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Ne2,Re8,Qc2,h5,O-O,Nd7,Ng3,Qc7,Nxh5,Bxh2+,Kh1,Bd6,g3,Nf8,Kg2,Bg4,Rh1,c5,d5,c4', 'Nxf6+,gxf6,Bh7+,Nxh7,Qxh7+', 'https://lichess.org/training/02ooN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('02RwB', 'Bullet', 'GM RebeccaHarris', 2994, 'GM Konevlad', 2969, 'f4,b6,e4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Nf6,e5,Nd5,Nxd5,Bxd5,Qe2,Be7,O-O,g6,c3,c5,Be4,Bxe4,Qxe4,Nc6,d3,d5,exd6,Qxd6,a4,Rd8,a5,O-O,axb6,axb6,Ra6,Nb8,Ra7,Rd7,Rxd7,Nxd7,Rd1,Nf6,Qb7,Nd5,Ne5,f6,Nc4,Qb8,Qd7,Qc8,Qa7,Qc6,Qa2,Ra8,Qb3,b5,Na3,b4,Nc4,Qa4,Qxa4,Rxa4,Bd2,Kf7,Kf2,Ra2,Kf3,bxc3,bxc3,Rc2,Rb1,Nxc3,Rb7,Nd5,g3,h6,h4,h5,Ba5,Ke8,Rb8+,Kf7,Rb7,Ra2,Bd8,Ra8,Nd6+,Kf8,Bxe7+,Nxe7,Ne4,Rd8,Nxc5,Rd6,Ke2,Nf5,Ne4,Ra6,Nxf6,Nxg3+,Kf3,Nf5,Nh7+,Ke8,Nf6+,Kf8,Nd7+,Ke8,Ke4', 'Nd6+,Kf3,Nxb7', 'https://lichess.org/training/02RwB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('02WQZ', 'Rapid', 'max2chess', 1867, 'ikma', 1971, 'e4,g6,f4,Bg7,Nf3,c5,Bc4,Nc6,O-O,d6,e5,d5,Bb5,Bg4,c3,e6,Qa4,Ne7,d4,cxd4,Nxd4,Rc8,Qxa7,O-O,Bxc6,bxc6,Be3,c5,Nb5,Be2,Nd6,Ra8,Qxc5,Bxf1,Kxf1,Nc8,Na3,Nxd6,exd6,Ra5,Qb4,Qa8,d7,Qa6+,Kg1,Ra4', 'Qxf8+,Bxf8,d8=Q', 'https://lichess.org/training/02WQZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('033ej', 'Rapid', 'sk8x', 2176, 'seber', 2155, 'e4,Nc6,Nf3,d6,d4,Nf6,Nc3,a6,Be2,e6,O-O,Be7,Bf4,O-O,d5,Nb8,dxe6,Bxe6,e5,Ne8,Nd4,Bd7,Bf3,c6,Re1,dxe5,Bxe5,Bf6,Qe2,c5,Nb3,Bc6,Nxc5,Bxe5,Qxe5,Bxf3,gxf3,Nc6,Qf4,Nf6,Rad1,Qb6,Nd3,Rad8,Ne4,Nd5,Qg3,Nd4,c3,Nf5,Qg5,Qg6,Qxg6,fxg6,Nec5,Nh4,Ne5,Rf5,Nxb7,Rb8,Rxd5,Rxb7,Rd8+,Rf8,Rxf8+,Kxf8,b4,Rb5,a3', 'Rxe5,Rxe5,Nxf3+,Kf1,Nxe5', 'https://lichess.org/training/033ej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('039ga', 'Rapid', 'rrpagador', 1978, 'Noel8234367', 2068, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be3,Bg7,f3,a6,Qd2,O-O,Be2,Re8,O-O-O,b5,a3,Bb7,Bh6,Bh8,h4,Nc6,Nxc6,Bxc6,h5,b4,axb4,Bb5,hxg6,fxg6,e5,Bxe2,Qxe2,a5,exf6,Bxf6,Qe6+,Kh8,Qf7,Rg8,Qxh7+,Kxh7', 'Bf8+,Bh4,Rxh4#', 'https://lichess.org/training/039ga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('03BHm', 'Rapid', 'Mrsmart11', 1728, 'samborin', 1645, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,h3,Be6,O-O,Bc5,Re1,O-O,Nxe5,Nxe5,Rxe5,c6,Nc3,Nxc3,bxc3,Bxc4,Rxc5,Bd5,c4,Be6,Qf3', 'Qd4,Rb1,Qxc5', 'https://lichess.org/training/03BHm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('03cLe', 'Blitz', 'IM sestremera', 2294, 'Tactical_007', 2423, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Bd3,Bxd3,Qxd3,e6,N1e2,Nf6,Bd2,Nbd7,O-O-O,Bd6,Kb1,O-O,Ne4,Nxe4,Qxe4,Nf6,Qf3,Be7,g4,Qd5,Qg3,Ne4,Qf4,f5,Nc3,Qxd4,Nxe4,fxe4,Qc7,Bf6,Bc3,Qb6,Qxb6,axb6,Bd2,Rad8,Be3,Rd5,g5,hxg5,hxg5,Be5,Rdg1,g6,Rh6,Kf7,Rh7+,Bg7,c4,Rd3,Rg4,Rfd8,Rxe4,Rd1+,Kc2,b5,cxb5,cxb5,Rf4+,Kg8,Rh2,Ra1,a3,Be5,Rh6,Bxf4,Bxf4,Kg7,Be5+,Kf7,Rh7+,Kf8', 'Rh8+,Ke7,Bf6+', 'https://lichess.org/training/03cLe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('03DB8', 'Classical', 'King_chepelev', 2147, 'vikvikbab3', 1893, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,c4,e6,Nc3,Bb4,Be3,Bxc3+,bxc3,Nge7,Qg4,O-O,Bh6,Ng6,h4,Nce5,Qg3,gxh6,h5,Qg5,hxg6,Qxg3,gxh7+,Kxh7,fxg3,Rg8,Kf2,b6,Be2,Bb7,Rh4,Ng4+,Bxg4,Bxe4,Bxe6,fxe6,Rxe4,Raf8+,Nf3,Rf5,Rd1,Rg7,Rd6,b5,Rxa6,bxc4,Rxc4,d5,Rf4,Rxf4,gxf4,Rc7,Rxe6,Rxc3,Nh4,Rc2+,Re2,Rc4,Re7+,Kg8,Kf3,Rc3+,Kg4,d4,Kf5,d3,Kf6,Rc6+,Re6', 'Rxe6+,Kxe6,d2,Nf5,d1=Q', 'https://lichess.org/training/03DB8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('03lLj', 'Classical', 'aunor', 1767, 'vnncghast', 1787, 'd4,d5,f3,Nc6,c3,e6,h4,Nf6,Bg5,Be7,Bxf6,Bxf6,g3,e5,e3,exd4,cxd4,Qe7,Qd2,O-O,Nc3,Bf5,O-O-O,Nb4,e4,dxe4,fxe4,Bg4,Re1,Qd7,e5,Be7,d5,Rad8,Bg2,Bf5,Nh3,Nd3+,Kd1,Nxe1,Kxe1,Bb4,Qf4,Rfe8,Qxb4,Rxe5+,Kf1,Bg4,Nf2,Bf5,Qf4,Rde8,Kg1,c6,d6,Qxd6,Kh2,h6,Re1,Qf6,Rxe5,Rxe5,Bh3,g5,Qf3,Qe6,Bxf5,Rxf5,Qg2,gxh4,gxh4+,Kh8,Nce4,Qxa2,Qg4,Rd5,Qc8+,Kg7,Qg4+,Kh8,Nf6,Rd8,Qf5,Kg7,Nh5+,Kf8,Qf6,Qd5,Qxh6+,Ke8', 'Nf6+,Ke7,Nxd5+', 'https://lichess.org/training/03lLj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('03ZK3', 'Rapid', 'Elzoz2020', 1967, 'drdrdrwx', 2000, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Bb5,a6,Be2,O-O,O-O,d6,Kh1,Qc7,f4,b5,a3,h6,Bh4,Bb7,Bf3,Rfe8,Qd3,Rac8,Rad1,Nxd4,Qxd4,e5,fxe5,dxe5,Qf2,g5,Qg3,Kh7,Bxg5,hxg5,Qxg5,Rg8,Qf5+,Rg6,Bh5,Nxh5,Qxh5+,Kg7,Rf3,Rh8,Rxf7+,Kxf7,Qxh8,Bf6,Rf1,Qe7,Qh7+,Rg7,Qh5+,Kg8,Qf5,Rg5', 'Qxf6,Qxf6,Rxf6', 'https://lichess.org/training/03ZK3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('047uP', 'Rapid', 'CJ-song817', 1760, 'alex484', 1834, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,d5,Nc3,dxe4,Nxe4,Nf6,f3,Nxe4,fxe4,Bc5,Be3,Qh4+,Bf2,Qxe4+,Qe2,Qxe2+,Bxe2,Bxd4,Bxd4,O-O,O-O,Nc6,Bc3,a6,Rad1,f6,Bc4,b5,Bb3,a5,a3,a4,Ba2,Ne7,Bb4,Re8,Rfe1,Ng6,Rd6,Ne5,Rb6,Kf7,Rxb5,Ba6,Ra5,Bc4,Rxa8,Rxa8,b3,axb3,cxb3,Bd5,Rc1,Nd3,Rc7+,Kg8,Bb1,Nxb4,axb4,Ra1,Rc1,Bxb3', 'Bxh7+,Kxh7,Rxa1', 'https://lichess.org/training/047uP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('04bHj', 'Rapid', 'Un1k3-6eNeR41', 1909, 'marco2771', 1859, 'e4,Nf6,e5,Nd5,d4,d6,Bc4,Nb6,Bb3,Bf5,Nf3,e6,h3,Be7,Bf4,O-O,Nc3,Nc6,a3,Na5,Ba2,Nbc4,Qe2,d5,Nd2,Bxc2', 'Nxc4,dxc4,Qxc2', 'https://lichess.org/training/04bHj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('04cPz', 'Rapid', 'SoPraMim', 1735, 'Erostratos', 1708, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d5,Nxc6,bxc6,Be2,Bd7,exd5,Nf6,dxc6,Bxc6,Qxd8+,Rxd8,O-O,Bd6,Nc3,O-O,Be3,h5,Bxa7,Ng4,Bxg4,hxg4,Rfe1,g5,Be3,f6,Rad1,Kg7,Bd4,Rh8,g3,Rh3,Ne4,Bxe4,Rxe4,Rdh8,Rxg4,Rxh2,Kf1,Kg6,Re4,Kf5,Rde1', 'Rh1+,Kg2,R8h2+,Kf3,g4+,Rxg4,Rxe1', 'https://lichess.org/training/04cPz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('04Jaa', 'Rapid', 'nikolay1973rc', 1898, 'Mohit703', 1930, 'e4,c5,f4,e6,Nf3,d5,e5,Nc6,Bb5,Ne7,O-O,a6,Bxc6+,Nxc6,c3,d4,cxd4,cxd4,d3,Nb4,a3,Nc6,Nbd2,b5,Ne4,h6,b4,Bb7,Bb2,a5,bxa5,b4,Qa4,bxa3,Bxd4,Qc7,Bb6', 'Qxb6+,axb6,Rxa4', 'https://lichess.org/training/04Jaa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('04jOM', 'Rapid', 'tothi1995', 1855, 'RG131169', 1691, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,g3,d6,Bg2,Nf6,O-O,Be7,Re1,O-O,Nc3,e5,Nb3,Be6,Nd5,Nc6,Bd2,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/04jOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('04MUq', 'Rapid', 'Viktor_V_Z', 1958, 'shah677', 1862, 'e4,e6,d4,d6,Nf3,h6,c4,a6,Nc3,b6,a4,Bb7,Bd3,Nd7,O-O,Qe7,Be3,g6,d5,e5,b4,Ngf6,Qb3,Bg7,c5,dxc5,bxc5,Nxc5,Bxc5,Qxc5,Rac1,Qd6,Nd1,O-O,Ne3,Nd7,Nc4,Qf6,Bb1,a5,Ncd2,Nc5', 'Rxc5,bxc5,Qxb7', 'https://lichess.org/training/04MUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('04Nk6', 'Rapid', 'ar_21435', 1983, 'elinjo89', 2208, 'd4,d5,c3,Nf6,e3,c5,f4,b6,Nf3,g6,Bd3,Bg7,O-O,O-O,Nbd2,Qd6,Ne5,Bb7,Qe2,Ne4,g3,f6,Nef3,Nd7,Bb1,e5,fxe5,fxe5,dxe5,Nxe5,Nxe5,Rxf1+,Kxf1,Qxe5,Nxe4,dxe4,a3,Rf8+,Kg1,Kh8,Ba2,Bc8,Bd2,Qg5,Rf1,Bg4', 'Rxf8+,Bxf8,Qc4', 'https://lichess.org/training/04Nk6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('04nw7', 'Blitz', 'FM tolichach', 2148, 'Patralgan', 2053, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,d5,Be3,Nc6,Qd2,Be6,Nd4,Nxd4,cxd4,Bd6,O-O-O,Bf5,f3,Qd7,g4,Bg6,Bd3,O-O-O,Qa5,Kb8,Kb1,Rhe8,Bg5,f6,Bxg6,hxg6,Bc1,Re2,h4,Qc6,Qc3,Qxc3,bxc3,Rde8,h5,gxh5,Rxh5,a5,Rxd5,a4,Ra5', 'Re1,Rxe1,Rxe1', 'https://lichess.org/training/04nw7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('04Q6b', 'Blitz', 'CheaTer31rus', 1505, 'alokvatsa', 1510, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Be3,Be7,Bd3,O-O,Nc3,c6,Qe2,h6,h4,Re8,Ne5,Nbd7,g4,Nxe5,dxe5,Nxg4,O-O-O,Nxe5,Bxh6,Bg4,Qxe5,gxh6,Rhg1,Bg5+,hxg5,Rxe5,Rxg4,hxg5,Rh1,f6,b3,Qa5,Kb2,b5,Rg2,b4,Ne2,Qa3+,Kb1,a5,f4,Re3,fxg5,Kf7,gxf6,a4,Rh7+,Kxf6', 'Rg6+,Ke5,Rh5#', 'https://lichess.org/training/04Q6b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('04t02', 'Classical', 'AECIODECASTROBARBOSA', 1630, 'JXA650', 1633, 'd4,d5,Nf3,a6,e3,c6,c4,Bf5,Nbd2,e6,h3,Nf6,b3,Bb4,cxd5,cxd5,Bb2,Nbd7,Be2,Ne4,O-O,Qa5,Nxe4,Bxe4,a3,Bc3', 'b4,Bxb4,axb4', 'https://lichess.org/training/04t02');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('05dWU', 'Rapid', 'megasalexandros', 1807, 'shomal_63', 1805, 'e4,d5,exd5,Qxd5,Qf3,Qxf3,Nxf3,Nf6,Bd3,Nc6,c3,e5,Bb5,e4,Bxc6+,bxc6,Ne5,Bb7,O-O,Bd6,Nc4,O-O-O,b3,Ng4,Ba3,Bxh2+,Kh1,Bf4,f3,Nf6,Be7,Rd7,Bxf6,gxf6,fxe4,Be5,Nba3,c5,Rad1,Bxe4,Rfe1,Bg6,Nxe5,fxe5,Rxe5,Rhd8,Re2', 'Bh5,Rde1,Bxe2', 'https://lichess.org/training/05dWU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('05DyL', 'Rapid', 'Quetzalcoatl17', 2204, 'Danos', 2165, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Nbd7,Bd3,dxc4,Bxc4,b5,Bd3,Bd6,O-O,O-O,e4,e5,d5,cxd5,exd5,a6,Re1,Bb7,Bg5,Qc7,Rc1,Rac8,Ne4,Qb8,Bxf6,Nxf6,Nxf6+,gxf6,Nh4,Rxc1,Qxc1,e4,Bxe4,Bxh2+,Kh1,Qf4,g3,Qxf2,Nf5,Bxd5,Nh6+,Kg7,Bxd5', 'Bxg3,Ng4,Qxe1+,Qxe1,Bxe1', 'https://lichess.org/training/05DyL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('05jMu', 'Rapid', 'musablanca', 2111, 'cheriMumu', 2022, 'f4,d5,Nf3,Nf6,g3,Nc6,Bg2,e6,O-O,Bc5+,e3,O-O,d4,Bb6,a4,a5,Nc3,Ne8,b3,f6,Bb2,Nd6,Nb5,Nxb5,axb5,Ne7,c4,c5,bxc6,bxc6,c5,Bc7,b4,Ba6,Re1,axb4,Qa4,Nf5,Qxb4,Bc4,Rxa8,Qxa8,Ra1,Qd8,Kf2,Qd7,Ra7,Rb8', 'Qxb8+,Bxb8,Rxd7', 'https://lichess.org/training/05jMu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('05Njf', 'Rapid', 'GE_tt', 1694, 'tazo7', 1811, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,Bg5,h6,Bh4,g5,Bg3,Bg4,h3,Bh5,Bh2,Nd4,g4,Bg6,Nxd4,Bxd4,Qd2,Nd7,O-O-O,h5,Nd5,hxg4,hxg4,c6,Ne3,Qb6,c3,Bxe3,Qxe3,Qxe3+,fxe3,Nb6,Bb3,a5,Bc2,a4,d4,f6,d5,cxd5,exd5,Bxc2,Kxc2,Nc4,Rd3,e4,Rd2,Nxd2,Kxd2,a3,b3,Rh4,c4,Rxg4,Bxd6,Rg2+,Kc3,Kd7,Bb4,Rxa2', 'Rh7+,Ke8,Rh8+', 'https://lichess.org/training/05Njf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('05nzv', 'Rapid', 'beergarden', 1667, 'jerriadilson74', 1637, 'e4,c5,Bc4,Nc6,Nf3,d6,d3,e6,O-O,Nge7,Bg5,g6,Bf6,Rg8,Nc3,Bg7,Bg5,Qb6,Rb1,Bd7,Nb5,Nd4,Nfxd4,Bxd4,Bxe7,Kxe7,Qf3,Bf6,Rfe1', 'Bxb5,Bxb5,Qxb5', 'https://lichess.org/training/05nzv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('05oMw', 'Rapid', 'alawi201', 2020, 'ALEKSEY_GLUSHKO', 1967, 'c4,Nf6,Nc3,e6,g3,d5,Bg2,dxc4,b3,cxb3,Qxb3,c6,Bb2,Be7,Nf3,O-O,d3,b5,Ne5,Bb7,Nxb5,Qb6,Bd4,Qa6,Nc7', 'Qa5+,Bc3,Qxc7', 'https://lichess.org/training/05oMw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('05sUs', 'Rapid', 'BillDerr', 1810, 'musfriend', 1913, 'e4,e5,Bc4,Bc5,Qh5,Qe7,Nf3,Nc6,Ng5,g6,Qf3,Qxg5,Qxf7+,Kd8,Qf3,Nd4,Qd3,Qxg2,Rf1,Nf3+,Ke2,Ng1+,Kd1,d5,Qxd5+,Bd6,c3,Bg4+,Kc2,Rb8,d4,Ne7,Qf7,exd4,Qg7,Kd7,Qxd4,c5,Qd3,Be2,Rxg1,Bxd3+,Bxd3,Qxg1,Be3,Bxh2,b3,Rhc8,Kb2,Be5,Nd2,Qh2,Bb5+,Kd8,Rd1,Nc6,Nf3+,Ke7,Nxh2,Bxh2,Bg5+,Kf8,Rh1,Be5,Rxh7,Rc7,Rh6,Rg7,Bc4,b5', 'Rh8+,Rg8,Rxg8#', 'https://lichess.org/training/05sUs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('05URT', 'Rapid', 'spankyourpong121', 1676, 'Deadlyboi', 1703, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Ne7,Bxc6+,Nxc6,Nf3,Qb6,O-O,Bd7,b3,Rc8,Be3,cxd4,cxd4,Nb4,Nbd2,Nc2,Rc1,Nxe3,Rxc8+,Bxc8,fxe3,Bd7,Ng5,h6,Nxf7,Rh7,Qf3,Qb4,Nxh6,Rxh6', 'Qf7+,Kd8,Qxf8+,Qxf8,Rxf8+', 'https://lichess.org/training/05URT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('05vVA', 'Rapid', 'spoter', 1805, 'sabs', 1957, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,Re8,Bd3,a6,Nge2,b6,O-O,c5,d5,e6,Qd2,exd5,cxd5,b5,a3,Bb7,b4,c4,Bc2,Qe7,Rac1,Nbd7,Bg5,Qf8,f4,h6,Bh4,Nh5,g4,Nhf6,h3,Nh7,Nd4,g5,fxg5,hxg5,Bxg5', 'Bxd4+,Qxd4,Nxg5', 'https://lichess.org/training/05vVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('062EJ', 'Rapid', 'satforu', 1992, 'legendaryfatguy', 2100, 'e4,d5,exd5,Nf6,Nc3,e6,dxe6,Bxe6,Nf3,Bb4,Bd3,Nc6,O-O,Qd7,Bb5,O-O-O,d4,h5,Ne5,Qxd4,Nxc6,bxc6,Qxd4,Rxd4,Bxc6,Bxc3,bxc3,Rc4,Bb5,Rxc3,Bb2,Rxc2,Ba6+,Kd7,Rfd1+,Ke7,Ba3+,c5,Rac1,Rxc1,Rxc1,Bxa2,Bxc5+,Ke6,Re1+,Kd5,Bxa7,Bc4', 'Rd1+,Kc6,Bxc4', 'https://lichess.org/training/062EJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('066PI', 'Bullet', 'IM DeepRabbit', 2620, 'JessicaLovesChess', 2703, 'd4,Nf6,c4,e6,g3,d5,Bg2,dxc4,Nf3,c5,O-O,Nc6,Qa4,Bd7,dxc5,Bxc5,Qxc4,Be7,Nc3,O-O,Rd1,Rc8,Bf4,Na5,Qd3,Nc4,Qc2,Qa5,Qb3,b5,Ne5,Nxe5,Bxe5,b4,Bxf6,Bxf6,Ne4', 'Ba4,Nxf6+,gxf6,Qf3,Bxd1', 'https://lichess.org/training/066PI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('06APo', 'Rapid', 'feschakampoe', 1811, 'vikramcherian', 1773, 'e4,Nc6,Nc3,f5,d4,fxe4,d5,Ne5,Qh5+,Nf7,Bc4,Nf6,Qh4,c6,Be3,Nd6,Bb3,g6,O-O-O,Bg7,dxc6,bxc6,Nge2,Rb8,Ng3,Rxb3,cxb3,O-O,Bd4,Qa5,Kb1,Nb5,Nxb5,Qxb5,Nxe4,Nxe4,Qxe4,d6,Bxg7', 'Bf5,Bxf8,Bxe4+', 'https://lichess.org/training/06APo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('06Ehn', 'Blitz', 'Tiggeronvrb', 1818, 'Jumentazo', 1857, 'Nf3,c5,e4,d6,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,Nf6,O-O,a6,Qe2,e6,Rd1,Qc7,Bf4,Be7,Rac1,O-O,a3,Nh5,Be3,b5,Nxb5,axb5,Bxb5,Bb7,Nd4,Nxd4,Bxd4,Qa5,Qxh5,Bxe4,Qg4,Bg6,Bd3,d5,h4,h5,Qg3,Qd8,Bxg6,Bxh4,Qd3,fxg6,Qxg6,Qg5,Qxe6+,Kh8,Rc3,Rae8,Qd6,Rf5,Rh3,Ref8,Rxh4,Qxh4', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/06Ehn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('06hFC', 'Blitz', 'Fyfy63', 1968, 'BomberHarris', 1928, 'e4,c5,Nc3,d6,g3,Nc6,Bg2,e5,d3,h6,f4,exf4,Bxf4,Nf6,Nf3,Nd7,O-O,Be7,Qd2,O-O,Bxh6,gxh6,Qxh6,Bf6,Nh4,Bg7,Qd2,Nde5,Nf5,Bxf5,Rxf5,Qb6,Nd5,Qxb2,Raf1,Rae8,Qg5,Ng6,h4,Nce7,h5,Nxf5,Rxf5,Qd4+,Kh2,Ne5,Nf6+,Kh8,h6,Bxf6', 'Qxf6+,Kh7,Qg7#', 'https://lichess.org/training/06hFC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('06pV2', 'Rapid', 'RadSob', 1811, 'CelesMoor', 1777, 'e4,e5,f4,Nc6,Bc4,a6,Nf3,b5,Bb3,Nd4,O-O,Nxb3,axb3,d6,fxe5,dxe5,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/06pV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('06WBO', 'Blitz', 'xenocalamus', 1802, 'raduan_raul', 1773, 'e4,c5,f4,Nc6,Nf3,e6,b3,Nf6,d3,a6,Bb2,Be7,Be2,O-O,O-O,b5,Nbd2,Bb7,Qe1,h6,Qg3,d6,e5,Nxe5,fxe5,dxe5,Bxe5,c4,d4,cxb3,cxb3,Re8,Rac1,Bf8,Nh4,Nd5,Bf3,Ra7,Bxd5,Qxd5,Rf6,Kh7,Rcf1,gxf6,Rxf6,Re7,Qd3+,Kg8,Qf1,Bg7,Qf4,Qc6,Qg4,Qc1+', 'Rf1,f5,Qxg7+,Rxg7,Rxc1', 'https://lichess.org/training/06WBO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('071ju', 'Classical', 'DSS4', 2076, 'gure19', 1823, 'd4,d5,Bf4,a6,Nf3,Nc6,e3,f6,c3,Bg4,Qb3,e5,dxe5,Bxf3,gxf3,fxe5,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/071ju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('075pC', 'Rapid', 'ghosty69', 1686, 'Chescar', 1684, 'c4,e6,Nc3,Ne7,d4,g6,e4,c6,Be2,Bg7,Be3,d5,e5,Nd7,Qd2,h6,Nf3,Nf5,O-O,Nxe3,Qxe3,c5,cxd5,b6,dxe6,fxe6,Rad1,O-O,d5,Qe7,d6,Qf7,Bd3,Bb7,Nh4,Nxe5,f4,Ng4,Qe2,Bd4+,Kh1,Ne3,Bxg6,Bxg2+,Kg1,Nxd1+,Kxg2,Qb7+,Be4,Qg7+,Kh3,Ne3,Rf3,Kf7,Rxe3,Rg8,Rg3,Qf6,Qh5+,Kf8,Rxg8+,Kxg8,Qg4+,Qg7,Qxe6+,Qf7,Bh7+,Kf8,Qxh6+,Bg7,Ng6+,Ke8,d7+,Kxd7,Ne5+,Bxe5,fxe5,Rh8,Qd6+,Ke8,Qb8+,Ke7,Qxh8,Qh5+,Kg2,Qg5+,Kh3,Qh5+,Kg3,Qg5+,Kf3,Qh5+,Ke4,Qg4+,Kd5', 'Qd4+,Kc6,Qd7#', 'https://lichess.org/training/075pC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('07aIb', 'Rapid', 'SokolNao', 1711, 'mefistofel82', 1691, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nf6,d4,Be7,h3,h6,a3,O-O,Bb5,c6,Ba4,Re8,O-O,Bf5,Bf4,Nbd7,Ne5,Nxe5,dxe5,Nd7,Re1,Qb6,Rb1,Bc5,Be3,Rxe5,Bxc5,Rxe1+,Qxe1,Nxc5,Qe5,Bg6,h4,Nxa4,Nxa4,Qa5,Nc3,Bxc2,Rc1,Bg6,h5,Bh7,Re1,Qd8,b4,Kf8,Re3,Qe8', 'Qd6+,Kg8,Rxe8+', 'https://lichess.org/training/07aIb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('07hJ5', 'Rapid', 'miNIr0x', 1642, 'czechrep', 1632, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bf5,Bc4,e6,O-O,c6,d3,Nf6,Bf4,Nbd7,Re1,Qc5,h3,Bd6,Qd2,Bxf4,Qxf4,O-O-O,Ne5,Nxe5,Rxe5,Qd6,Qe3,Kb8,a4,h5,a5,a6,Na4,Rh7,Qb6,Rdh8,Nc5,Kc8,Re3,Ng4,hxg4,hxg4,Qxb7+,Kd8,f3,Rh1+,Kf2,g3+,Ke2,Rxa1,Qa8+,Ke7,Qxh8,Qxc5,Qxg7', 'Re1+,Kxe1,Qxe3+', 'https://lichess.org/training/07hJ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('07jQK', 'Rapid', 'KKSZ97', 1825, 'cabernet14', 1821, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,O-O,b5,Bd3,Nxd5,c3,Qxg5,cxd4,Bd6,Bxb5+,Bd7,Qa4,Nb6,Bxd7+,Nxd7,d3,Qe7,Nc3,O-O,dxe5,Nxe5,Re1', 'Nf3+,gxf3,Qxe1+', 'https://lichess.org/training/07jQK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('07Kpo', 'Rapid', 'solgalio', 1901, 'satyampratap', 1887, 'e4,c5,Nf3,Nc6,c4,d6,Nc3,Bg4,d3,Nf6,Be2,g6,h3,Bxf3,Bxf3,Bg7,Be3,O-O,O-O,a6,Qd2,Rb8,Bh6,b5,Bxg7,Kxg7,cxb5,axb5,b3,Nd4,Ne2,Nxf3+,gxf3,Qd7,Kh2,b4,Rg1,Qe6,f4,Nh5,Ng3,Nxg3,Rxg3,f5,f3,Rf7,Rag1,Rbf8,Qb2+,Kg8,e5,dxe5,fxe5,f4,Rg5,Rd8,Qc2,Rd5,d4,cxd4,Rxg6+,hxg6,Rxg6+,Qxg6,Qxg6+,Rg7', 'Qe6+,Rf7,Qxd5', 'https://lichess.org/training/07Kpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('07lPB', 'Blitz', 'FM GorkiPelin', 2424, 'onurk2001', 2156, 'e4,e6,Nc3,d5,d4,dxe4,Nxe4,Nf6,Bg5,Be7,Bxf6,gxf6,Nf3,f5,Ng3,c5,c3,Nc6,Bb5,Bd7,dxc5,Bxc5,Qe2,Qb6,a4,O-O-O,a5,Qc7,a6,b6,b4,Bd6,O-O,Ne5,Nd4,h5,c4,h4,Nh1,Ng4,g3,hxg3,fxg3,Rxh2,Qf3,Rdh8,Qa8+,Qb8,Bxd7+,Kxd7,Qc6+,Ke7,Nf2,Bxg3,Nxg4,fxg4,Rxf7+,Kxf7,Qxe6+,Kg7,Nf5+,Kh7', 'Qf7#', 'https://lichess.org/training/07lPB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('07npJ', 'Rapid', 'SamDooley', 1989, 'Pablo0000', 1954, 'Nf3,Nc6,d4,d5,g3,Nf6,Bg2,e6,O-O,h6,c4,a6,Nc3,Be7,Ne5,h5,Nxc6,bxc6,Qa4,Bd7,c5,h4,e4,hxg3,fxg3,Ng4,h3,Nf6,Qc2,Nh5,Qd3,Bg5,Qf3,f5,exf5,Bxc1,Raxc1,exf5,Rce1+,Kf7,g4,Nf6,gxf5,Rh5,Qd3,Bxf5', 'Rxf5,Rxf5,Qxf5', 'https://lichess.org/training/07npJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('07PwL', 'Blitz', 'soyunder', 1756, 'BobbyBababoee', 1741, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bc4,Bb4,d3,O-O,Bg5,h6,Bh4,g5,Bg3,Bxc3+,bxc3,d5,exd5,Nxd5,Bxd5,Qxd5,O-O,f5,h4,f4,Bh2,g4,Nd2,Bf5,f3,g3,c4,Qc5+,Kh1,gxh2,Kxh2,Qe7,Qe1,Nd4,Qf2,Nxc2,Rac1,Ne3,Rg1,Qc5,Ne4,Bxe4,Kh1,Bxd3,g4,Bxc4,g5,Kh7,g6+,Kg7,h5,Rf5,Qh4,e4,Rxc4,Qxc4', 'Qe7+,Kg8,Qh7+,Kf8,g7+', 'https://lichess.org/training/07PwL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('07Tqe', 'Blitz', 'Mark_Twain_64', 2458, 'IM Ashot2001', 2529, 'e4,e6,Nf3,d5,e5,c5,b4,b6,c3,a5,bxc5,bxc5,Bd3,Ba6,Bc2,h6,h4,Ne7,d3,Nbc6,Qe2,Qc7,Bf4,Rb8,O-O,Nf5,g4,Nxh4,Nxh4,g5,Ng6,fxg6,Bg3,Bg7,Nd2,O-O,Rfe1,Rb2,Rac1,Rxa2,Qe3,d4,Qe4,dxc3,Nb3,Nb4,Bb1,Rb2,Rxc3,Bb7,Qxg6,Qc6,Qe4,Qxe4,dxe4,Rc8,Nxa5,Ba6,Nc4,Bxc4,Rxc4,Bf8,Rec1,Rd8,Bc2,Rd2,Ba4,Nd3,Rf1,Bg7,Bd7,Bxe5,Bxe6+,Kg7,Bxe5+,Nxe5,Rxc5,Nf3+,Kh1', 'Rxf2,Rxf2,Rxf2', 'https://lichess.org/training/07Tqe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('07uHl', 'Blitz', 'imperatore91', 1860, 'Victor_Kolobov82', 1925, 'd4,d6,c4,g6,Nc3,Bg7,e4,Nd7,Be3,e5,Nge2,Ne7,g3,O-O,Bg2,f5,f4,Nb6,b3,fxe4,Nxe4,Nf5,Bf2,d5,N4c3,dxc4,dxe5,cxb3,Qxb3+,Kh8,Bc5,Re8,Rd1,Bd7,Bxb7,Rb8,Bc6,Qc8,Bg2,Be6,Qc2,Nc4,Rd3,Rb2,Qc1,Qa6,O-O,Reb8,Rfd1,Qa5,Rd8+,Bg8,Rxb8,Rxb8,Bf2,Qb4,Nd4,Nxd4,Rxd4,Qa3,Qxa3,Nxa3,Ra4,Nb5,Nd5,c6,Ne7,Bd5,Nxd5,cxd5,Bxd5,Nc3,Rd4', 'Ne2+,Kg2,Nxd4,Bxd4,Rd8', 'https://lichess.org/training/07uHl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('07UNp', 'Rapid', 'SV2009', 2110, 'Peter_Deadpool', 1865, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Be2,h5,d3,Ng4,Bxg4,Bxg4,f3,Qd4,Qe2,Bb4,Bd2,Be6,a3,Ba5,O-O-O,O-O-O,Be3,Qf6,Na4,b5,Nc5,Bb6,Nxe6,Bxe3+,Qxe3,Qxe6,Qxa7,Qa2,Kd2,Qxb2,Rb1,Qe5,g3,f5,f4,Qe6,e5,g5,Qa6+,Kd7,a4', 'Ra8,axb5,Rxa6', 'https://lichess.org/training/07UNp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('07X3h', 'Classical', 'Havana0', 1727, 'paulfleischman', 1718, 'd4,Nf6,d5,c6,c4,cxd5,cxd5,Qa5+,Nc3,b6,Bd2,Bb7,e4,Qb4,Nb5,Qxe4+,Ne2,Nxd5,Qb3,e6,Bc3,a6,Bxg7,Bxg7', 'Nd6+,Kd8,Nxe4', 'https://lichess.org/training/07X3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('08cjG', 'Rapid', 'Deepak153', 1745, 'PieterDornig', 1697, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Nf3,Nf6,Bd3,O-O,Be3,Ng4,Bf4,Nge5,Nxe5,Nxe5,Qd2,Nxd3+,cxd3,a6,O-O,d6,Rac1,Be6,b3,Rc8,Nd5,Bxd5,exd5,Qd7,Bh6,Bxh6,Qxh6,Qb5,Rce1,Rc7,Re3,Qxd5', 'Rh3,Qh5,Rxh5', 'https://lichess.org/training/08cjG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('08Hmx', 'Rapid', 'Susi1117', 1692, 'Pradeep18', 1755, 'f4,d5,Nf3,g6,e3,Bg7,Be2,Nf6,O-O,O-O,b3,Nc6,Bb2,Qd6,a4,a5,Na3,e6,Nb5,Qe7,Ba3,Qd7,Bxf8,Kxf8,Rc1,Qe7,c4,Na7,cxd5,Nxb5,Bxb5,Nxd5,Qc2,c6,Be2,Bd7,Ne5,Be8,Bf3,Qd6,Nd3,Rc8,Nc5,Rc7,Ne4,Qd7,Qc5+,Kg8,Qxa5,Rc8,Qc5,b6,Qc2,f5,Nf2,e5,fxe5,Bxe5,Nd3,Bg7,Qc4,Bf7,Qc2,Qe6,b4,Qd6,Qb1,Rd8,Rc2,Nxe3,Rxc6,Qxd3,Qxd3,Rxd3,dxe3,Rxe3,Rxb6,Bd4,Rb8+', 'Re8+,Kh1,Rxb8', 'https://lichess.org/training/08Hmx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('08HTe', 'Rapid', 'Gaspard23', 2045, 'Mr_mercii', 2115, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bf5,Bd3,Bg6,O-O,Nf6,Bg5,Nbd7,c4,c6,cxd5,cxd5,Nc3,Qc7,Rc1,Qb6,b3,Bb4,Re1+,Ne4,Nxd5,Qa5,Nxb4,O-O,Bxe4,Bxe4,Rxe4,Qxb4,Ne5,Nb6,Nd3,Qb5,Qf3,Qxg5,Rce1,Nd7,Ne5,Nf6,R4e2,Rad8,Rd1,Rxd4,Ree1,Rxd1,Qxd1,Re8,Nf3,Rxe1+,Qxe1,Qc5,Qd1,h6,h3,Ne4,Qe2,Ng3,Qd2,Ne4,Qe2,Qc1+,Kh2,Nc3,Qe8+,Kh7,Qxf7,Qc2,Nh4,Ne2,Nf5,Qc3,Ne7,Qe5+,Kh1', 'Qa1+,Kh2,Qg1#', 'https://lichess.org/training/08HTe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('08jr6', 'Rapid', 'tobemitchell', 1813, 'obodavic', 1709, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,Bg5,d6,h3,b6,e3,Bb7,Bd3,Nbd7,O-O,Re8,e4,e5,Re1,exd4,Nxd4,Qc8,Nd5', 'Nxd5,cxd5,Bxd4', 'https://lichess.org/training/08jr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('08l0s', 'Rapid', 'the_rev53', 1741, 'titi1a', 1856, 'g4,c5,Bg2,Nc6,c4,d6,e3,Ne5,h3,Nxc4,Qa4+,Qd7,Qxc4,b5,Qd5,Rb8,Nc3', 'Bb7,Qd3,Bxg2', 'https://lichess.org/training/08l0s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('08spC', 'Blitz', 'AnasKhwira', 2231, 'denis-rucoba-tuanama', 2306, 'c4,b6,Nc3,Bb7,d4,e6,e4,Bb4,Nf3,Bxe4,a3,Bxc3+,bxc3,Nf6,Bg5,h6,Bh4,g5,Bg3,d6,Be2,Nbd7,Qa4,O-O,Rg1,Qe7,h4,g4,Nd2,h5,Nxe4,Nxe4,Bf4,Nxc3,Qc2,Nxe2,Kxe2,e5,Bg5,f6,Bd2,exd4+,Kd1,c5,Qg6+,Qg7,Qxh5,f5,Bh6,Qf7,Qg5+,Kh7,Bxf8,Rxf8,Re1,Ne5,Rc1,Rg8,Qd2,f4,Re4,Rf8,Kc2,Qxc4+,Kb1,Qb3+,Qb2,Qd3+,Qc2,Qxc2+,Rxc2,c4,Rxd4,Rf6,Re2,b5,Red2,a5,Rxd6,Rxd6,Rxd6,Nd3,Ra6,b4,Ra7+,Kg6,axb4,axb4,Ra6+,Kh5,g3,fxg3,fxg3,b3,Ra5+,Kg6,Rc5,Ne1,Rc6+,Kf5,Kb2,Nd3+,Ka3', 'b2,Ka2,Nb4+,Kxb2,Nxc6', 'https://lichess.org/training/08spC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('08tsJ', 'Blitz', 'Carlitos1979', 1590, 'Sergio_akustika', 1588, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,d3,Bg4,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,O-O,O-O-O,Bg5,Be7,Nc3,a6,a3,h6,Bxf6,Bxf6,f4,exf4,Rxf4,Rhf8,Raf1,Bxc3,bxc3,f6,e5,b5,exf6,gxf6,Rxf6,Rxf6,Rxf6,Rh8,g4,Kb7,Kg2,a5,Kf3,Kb6,Kf4,Kb7,h4,c5,Kf5,c6,g5,hxg5,hxg5,Kb6,g6,Rh1,g7,Rf1+,Kg6,Rg1+,Kf7,b4,Rg6,Rf1+,Kg8,bxa3,Kh8,Rh1+,Rh6,Rg1', 'g8=Q,Rxg8+,Kxg8,a2,Rh1', 'https://lichess.org/training/08tsJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('08UbF', 'Blitz', 'FM LuisFlaquer', 2455, 'fankasp', 2380, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Be7,Bf4,O-O,e3,b6,h3,Bb7,a3,c5,dxc5,bxc5,Be2,Qa5,O-O,Rd8,cxd5,Nxd5,Nxd5,Bxd5,Qc2,Nd7,e4,Bc6,b4,Qb6,Rfc1,Rac8,b5,Bb7,a4,Nf6,Nd2,Rxd2,Qxd2,Nxe4,Qe3,g5,Be5,f5,f3,f4,Qd3', 'c4+,Bd4,cxd3,Rxc8+,Bxc8', 'https://lichess.org/training/08UbF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('08ulH', 'Rapid', 'Dajodo', 1809, 'pbrunoni', 1910, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Nxc6,bxc6,Be3,Rb8,Rb1,Qa5,Bd4,e5,Be3,d5,exd5,cxd5,Qxd5,Qxd5,Nxd5,Be6,Nc7+,Kf8,Nxe6+,fxe6,Bxa7,Ra8,Bc5+,Kf7,Ba3,e4,Bc4,Nf6,O-O,Nd5,Rfd1,Rhc8,Bxd5,exd5,c3,Ke6,Rd2,Bxc3,Rc2,Be5,Rbc1,Rxc2,Rxc2,Rb8,g3,Kf5,Kg2,d4,Rc5,d3,Rd5', 'Ke6,Rxe5+,Kxe5', 'https://lichess.org/training/08ulH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('08WDP', 'Classical', 'jas37', 1616, 'ravi2617', 1641, 'g3,Nf6,Bg2,g6,Nf3,Bg7,O-O,O-O,d4,d5,Ne5,h6,Bf4,Nc6,e3,g5,Nxc6,bxc6,Be5,Bg4,f3,Bc8,f4,Ng4,Qf3,f6,f5,fxe5,Qxg4,exd4,exd4,Qd7,Nc3,Rxf5,Qe2,Bxd4+,Kh1,a5,Rad1,Rxf1+,Bxf1,Bxc3,bxc3,Ba6,Qh5,Rf8,Qg6+,Kh8,Qxh6+,Kg8,Qxg5+,Kf7,Qh5+,Kg8,Bh3,e6,Qg6+,Qg7,Bxe6+,Kh8,Qh5+,Qh7,Qe5+,Qg7,Qe3,Re8,Re1,Bc8,Qe2,Rxe6,Qh5+,Qh6', 'Qxh6+,Rxh6,Re8+,Kg7,Rxc8', 'https://lichess.org/training/08WDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('091he', 'Blitz', 'abufalia', 2049, 'MCO_DD', 2029, 'e4,g6,d4,Bg7,Nc3,d6,f4,Nf6,Nf3,a6,e5,Nfd7,Bc4,O-O,O-O,c5,e6,fxe6,Bxe6+,Kh8,Ng5,cxd4,Nd5,Nc5,Nf7+,Rxf7,Bxf7,e6,Nb4,Qe7,f5,Qxf7,fxg6,Qxg6,Qf3,Nbd7,Bf4,Nf6,Bxd6,Nce4,Be5,Nd2,Qe2,Nxf1,Rxf1,Bd7,Nd3,Bc6,Nf4,Qf5,Nd5,Bxd5,Rxf5,exf5,Bxd4,Re8,Qd2,Be4,h3,Rd8,Qc3,Rd6', 'Qc8+,Ng8,Bxg7+,Kxg7,Qc7+,Kg6,Qxd6+', 'https://lichess.org/training/091he');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('092FX', 'Rapid', 'alamtoba', 2069, 'Gairicksaha123', 2227, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,O-O,d3,h6,c3,d6,Nbd2,Bg4,h3,Bh5,Nf1,Nd7,Ng3,Bg6,b4,Bb6,a4,a6,Ra2,Qf6,a5,Ba7,h4,Bh7,h5,Qd8,Bb3,Kh8,Bd2,Ne7,d4,f5,dxe5,fxe4,exd6,Nc6,Rxe4,Bxe4,Nxe4,cxd6,Bd5,Nde5,Nd4,Nxd4,cxd4,Qh4,Ra3,Bxd4,Be1,Ba7,Rh3,Qe7,Qe2,Nc6,Rf3,Nd4,Rxf8+,Rxf8,Qc4,Qe5,Bc3,Ne2+,Qxe2,Qxd5,Qg4,Bd4,Qd1,Rf4,Bxd4,Qxe4,Be3,Rf5,Qc1,Re5,Qe1,Kh7,Qd2,Qb1+,Kh2,Rxh5+,Kg3,Qg6+,Kf3,Rf5+,Ke2,Qg4+,Kf1,Rf7,Qd3+,Qf5,Qd2,Qb1+,Ke2,Qg6,Kf1,Re7,Kg1,Rf7,Kf1,Rf5,Kg1,Rh5,Kf1,Rh1+,Ke2,Ra1,g3,Rb1,Kf3,Ra1,Kg2,Rb1,Kf3,Qe4+,Ke2,d5,Qd3,Qg6,Qxg6+,Kxg6,Kd2,Rb2+,Kc3,Rxb4,Kxb4,Kf5,Kc5,Kg4,Kb6,Kf3,Kxb7,h5,Kxa6,h4,Kb6,hxg3,Kc5', 'g2,a6,g1=Q', 'https://lichess.org/training/092FX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('092na', 'Rapid', 'MatheusFreire', 2057, 'SmallStakes', 2413, 'c4,e5,Nc3,Bb4,Nd5,Bc5,b4,Bf8,e4,c6,Nc3,Bxb4,Nf3,d6,Be2,Nf6,O-O,O-O,Qc2,h6,d3,Be6,Rb1,Na6,a3,Bxc3,Qxc3,b6,Bb2,c5,Nd2,Nb8,f4,Nc6,f5,Bc8,Nf3,Ng4,h3,Nf6,g4,Nd4,Nxd4,exd4,Qd2,Nd7,Rf2,Qh4,Kg2,Qe7,Rbf1,f6,Bc1,Ne5,h4,Bb7,g5,fxg5,hxg5,hxg5,Qxg5,Qxg5+,Bxg5,b5,Rb1,a6,cxb5,c4,bxa6,Bxa6,dxc4,d3,Bh5,Bxc4,Be7,Rfb8,Bxd6,Rxb1,Bxe5,Rxa3,f6,Ra2', 'f7+,Bxf7,Bxf7+', 'https://lichess.org/training/092na');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0939m', 'Rapid', 'marivaldo', 1901, 'demisoupape', 1768, 'e4,c5,Nf3,e6,Nc3,a6,d4,cxd4,Nxd4,Qc7,Bd3,Nc6,Be3,Nf6,O-O,Be7,Nxc6,bxc6,Na4,c5,b3,Bb7,f3,O-O,c4,Rfd8,Qe1,d5,exd5,exd5,Qf2,d4,Bd2,Bd6,g3,Nh5,Rae1,Nxg3,hxg3,Bxg3,Qg2,Bxe1,Rxe1,Re8,Rxe8+,Rxe8,Qg4,Bc8,Qf4,Qd7,Nxc5,Qh3,Qh2,Bf5,Qxh3,Bxh3,Kf2,Bc8,Ne4,h5,Bg5,f6,Bf4,Bb7,Nd6,Re7,Nxb7,Rxb7,Bg6,a5,Bxh5,a4,Bg4,axb3,axb3,Rxb3,Be6+,Kf8,Bd6+,Ke8,c5,Rb2+,Ke1,d3,c6', 'Re2+,Kd1,Rxe6', 'https://lichess.org/training/0939m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09CfA', 'Rapid', 'soren2500', 1668, 'Aloe78', 1634, 'e4,e5,Bc4,Nc6,Nf3,Bc5,O-O,d6,h3,Nf6,c3,Nxe4,d4,exd4,cxd4,O-O,dxc5,Nxc5,Nc3,Be6,Bxe6,fxe6,a3,h6,b4,Nd7,Re1,e5,Qd5+,Kh8,b5,Ne7,Qxb7', 'Nc5,Qxa8,Qxa8', 'https://lichess.org/training/09CfA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09ebs', 'Rapid', 'popovicR', 1749, 'samiov', 1759, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bg5,O-O,h3,e5,d5,Nbd7,Qd2,a5,Bh6,Nc5,Bxg7,Kxg7,f3,Bd7,Bd3,Qe7,Nge2,c6,O-O,cxd5,Nxd5,Nxd5,exd5,Nxd3,Qxd3,Bf5,Qe3,Rac8,b3,Qd7,g4,Bc2,Ng3,b5,Qg5,bxc4', 'Nh5+,Kg8,Nf6+', 'https://lichess.org/training/09ebs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09Gbm', 'Classical', 'magikarp4president', 1740, 'jossanchez', 1767, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,e5,dxe5,Qxe5+,Be7,O-O,O-O,Rd1,Bd6,Qe2,Re8,Qd3,Qe7,Bg5,h6,Bxf6,Qxf6,Nd5,Bxd5,Qxd5,Qxb2,Qc4,Qf6,Rab1,b6,a4,Qe6,Qd3,Qe4,Qb3,Qb4', 'Qxb4,Bxb4,Rxb4', 'https://lichess.org/training/09Gbm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09hlU', 'Classical', 'Youyou1221', 1809, 'Abinav_2009', 1877, 'd4,d5,c4,e6,Nf3,Nf6,Bf4,Be7,Nc3,O-O,e3,b6,Bd3,Bb7,O-O,a6,Rc1,c5,cxd5,exd5,Bb1,Nbd7,Qc2,Rc8,Bg5,cxd4,exd4,Ne4,Bf4,Ndf6,Qd3,b5,Ne5,b4,Nxe4,dxe4,Qd2,Qb6,Bg5,Rxc1,Rxc1,Rd8,Be3,Bd5,h3,b3,a3,Bb7,Qe2,h6,d5,Qd6,Nc6,Bxc6,dxc6,Nd5,Bxe4,Nxe3,Qxe3', 'Bg5,Qxb3,Bxc1', 'https://lichess.org/training/09hlU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09Jp9', 'Rapid', 'bmtah', 1612, 'omdasalim1', 1618, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,h6,h3,Nf6,O-O,Bd7,Re1,Be7,d4,O-O,d5,Nb8,Bd3,a6,b3,c6,c4,cxd5,cxd5,Bb5,Bb2,Qd7,Re3,Bxd3,Qxd3,Rc8,Nc3,b5,Nh4,Nh5,Nf5,Nf4,Nxe7+,Qxe7,Qd2,Nd7,Ne2,Qg5,Rg3', 'Nxh3+,Kf1,Qxd2', 'https://lichess.org/training/09Jp9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09kN4', 'Rapid', 'Aleks8604', 1709, 'philip96', 1711, 'e4,c6,d4,d5,exd5,cxd5,Bd3,g6,h3,Bg7,Nf3,e6,O-O,Ne7,Bf4,Nbc6,c3,O-O,Qc2,Bd7,Nbd2,a6,Rae1,b5,Ng5,Nf5,Ngf3,f6,Bxf5,exf5,Re2,g5,Bh2,f4,Rfe1,Re8,Kf1,Rxe2,Rxe2,Qc7,Ne1,Re8,Rxe8+,Bxe8,Qf5,Ne7,Qe6+,Bf7,Qxa6,Be8,Nb3', 'Qc4+,Kg1,Qe2', 'https://lichess.org/training/09kN4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09LVe', 'Rapid', 'tsv123', 1848, 'HMiller9', 1798, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,a6,d3,Bc5,Nc3,Nge7,Nd5,d6,a3,b5,Ba2,Bg4,c3,O-O,Ne3,Bh5,b4,Bb6,Nd5,Ba7,h3,Kh8,g4,Bg6,Kg2,Rc8,Nh2,Nxd5,Bxd5,Ne7,Bb3,c5,f4,exf4,Bxf4,cxb4,cxb4,Bd4,Rc1,Qd7,Nf3,Bf6,Qe2,Nc6,Be3,Rfe8,Qd2,Kh7,Bd5,Ne5,Nxe5,Bxe5,g5,hxg5,Bxg5,f6,Be3,f5,exf5,Bxf5', 'Rxf5,Qxf5,Be4,Qxe4+,dxe4', 'https://lichess.org/training/09LVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09OHP', 'Rapid', 'Docker_in_the_mist', 2027, 'Claudius2800', 2081, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be3,Ng4,Nxc6,Nxe3,Nxd8,Nxd1,Rxd1,Kxd8,e5,a6,exd6,exd6,Bc4,Be6,Bd5,Kc7,O-O,Re8,Rfe1,g6,Bxe6,Rxe6,Rxe6,fxe6,Ne4,Be7,c3,d5,Nd2,Bc5,Kf1,Rf8,f3,Kc6,Nb3,Ba7,Ke2,e5,Rf1,g5,g3,Bb6,Nc1,Bc7,Nd3,a5,Rd1,h5,a4,Re8,b4,e4,fxe4,Rxe4+,Kf1,b6,b5+,Kd6,Nb2,Ke6,Re1,Rxe1+,Kxe1,h4,Kf2,Be5,Nd1,Kf5,Kf3,g4+,Kf2,hxg3+,hxg3,Ke4,Ne3,Bxc3,Nxg4,d4,Ke2', 'd3+,Kd1,Kf3,Nh6,Kxg3', 'https://lichess.org/training/09OHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09SS5', 'Blitz', 'Bogdaaann', 2065, 'Ozuna1179', 2034, 'e4,c5,d4,e6,Nf3,d5,exd5,exd5,dxc5,Bxc5,Bd3,Nf6,Nc3,O-O,O-O,Nc6,h3,Be6,Bg5,Be7,Re1,h6,Bf4,Bc5,Qd2,Nb4,Rad1,Nxd3,Qxd3,Qb6,Be3,Bxe3,Qxe3,Qxb2,Rb1,Qxc2,Rxb7,Ne4,Rc7,Nxc3,Rxc3,Qxa2,Nd4,Qa6,Rc6,Qa4,Nxe6,Qxc6,Nxf8,Kxf8,Qe7+,Kg8,g4,a5,h4,Qc4,g5,hxg5,hxg5,a4,Re3,a3,g6,d4', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/09SS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09sUF', 'Rapid', 'eyadhamad', 1923, 'vicky1606', 1901, 'd4,d5,Nf3,c6,e3,Nf6,h3,h6,c4,Bf5,Bd3,Ne4,cxd5,Qxd5,Bxe4,Bxe4,Nbd2,Bh7,O-O,e6,Qb3,b6,Qxd5,cxd5,Ne5,Be7,Ndf3,O-O,Bd2,Na6,Rfc1,Rfc8,Nc6,Bf6,a3,Rc7,b4,Rac8,b5,Nb8,Nfe5,Bxe5', 'Ne7+,Kh8,Nxc8', 'https://lichess.org/training/09sUF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09TAi', 'Blitz', 'RomanBloomington', 2133, 'Krikin', 2111, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bc4,a6,O-O,Qc7,Bb3,b5,a3,Bb7,Bg5,Nxe4,Nxe4,Bxe4,Bxe6,fxe6,Nxe6,Qb7,Re1,d5,Rxe4,dxe4,Qd8+,Kf7,Nc7,Ra7', 'Qe8+,Kg8,Qe6#', 'https://lichess.org/training/09TAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09TE9', 'Rapid', 'iraj_jalali', 1798, 'SirRoiphe', 1817, 'd4,Nf6,Nc3,g6,Nf3,Bg7,e3,O-O,Bc4,d6,Bd2,Bf5,O-O,Nbd7,a3,c5,dxc5,Nxc5,Nd4,Bd7,b4,Nce4,Nxe4,Nxe4,Be1,e5,Nf3,Rc8,Bd5,Bc6,Qd3,Bxd5,Qxd5,Nc3,Qxb7,Ne2+,Kh1,e4,Nd2,Bxa1,Qxa7,Rxc2,Nxe4,Be5,Qa4,Qc7,f4,Bg7,Nxd6,Rc3,Nb5,Qc6', 'Nxc3,Qxa4,Nxa4', 'https://lichess.org/training/09TE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09WaT', 'Rapid', 'sholyponpin', 1717, 'Ruesselmaus', 1692, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bb5,Bd7,Nc3,Nf6,Bg5,Bb4,Bxc6,Bxc6,O-O,Bxc3,Qe2+,Qe7,Qxe7+,Kxe7,bxc3,h6,Rfe1+,Kd6,Bf4+,Kd7,a4,Rhf8,Ne5+,Kc8,Nxc6,bxc6,Re7,Nd7,Rb1,g5,Bg3,f5,h3,f4,Bh2,Nb6,Re6,Nxa4,Rxc6,Rh8,Rb4,Rb8,Rxb8+,Kxb8,f3,Kb7,Rg6,Nxc3,Kf2,Nb5,g3,fxg3+,Bxg3,Nxd4', 'Be5,Rf8,Bxd4', 'https://lichess.org/training/09WaT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09WMe', 'Rapid', 'Kingchess48', 1695, 'vengobienlion', 1698, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bb6,Nc3,d6,Nxc6,bxc6,Bxb6,cxb6,Bd3,Bb7,O-O,Nf6,Re1,O-O,e5,dxe5,Rxe5,Nd7,Rh5,Nf6,Rh3,Qc7', 'Bxh7+,Nxh7,Qh5,f6,Qxh7+', 'https://lichess.org/training/09WMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('09Y2r', 'Rapid', 'maved01', 1859, 'Sefericod', 1787, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,Be2,c5,c3,Nc6,h3,Bxf3,Bxf3,cxd4,cxd4,Qb6,O-O,Qxd4,Qb3,Qb4,Qe3,Nge7,a3,Qa5,b4,Qc7,Bb2,Ng6,Re1,Be7,Nd2,O-O,Bd4,Nxd4,Qxd4,b6,Rac1,Qb7,Rc3,Rac8,Rec1,Rxc3,Rxc3,Rc8,Kh2,h6,Bh5,Nf8,Rxc8,Qxc8,Qf4,Qe8,Nf3,Nh7,Nd4,Bg5,Qg3,g6,Be2,Be7,b5,Ng5,Nc6,Bf8,f3,Qd7,h4,Nh7,f4,Bg7,a4,d4,Qd3,Nf8,Nxd4,Qe7,g3,Qc5,Nc6,Qf2+,Kh3,g5,hxg5,hxg5,fxg5,Ng6,Qf3,Qg1,Bd3,Nxe5,Nxe5,Bxe5,g6,f6,Qa8+,Kg7,Qb7+,Kh6', 'Qh7+,Kg5,Qh4#', 'https://lichess.org/training/09Y2r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0A5yl', 'Rapid', 'Karola513', 2045, 'Chess21YouTube', 2060, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,g3,Bb7,Bg2,Qc7,Bf4,e5,Be3,Nf6,Nc3,Bb4,Qd2,O-O,O-O,c5,a3,Bxc3,Qxc3,Bxe4,Bxe4,Nxe4,Qd3,Nf6,Bg5,e4,Qe3,d5,Bxf6,gxf6,Qh6,Qe5,f4,Qxb2,Kh1,Qb6,Rg1,Kh8,Rab1,Qe6,g4,f5,Qxe6,fxe6,gxf5,exf5,Rb7,Rg8,Rd1,d4,Rc7,Rgc8,Rf7,Rf8,Re7,e3,Kg2,Rfe8,Re5,Rxe5,fxe5,Re8,Kf3,Rxe5,Kf4,Re4+,Kxf5,Rh4,Ke5,Rxh2,Kd5,Rd2,Re1,Rxc2,Ke4,Ra2,Kd3,Rxa3+,Kc4,Rc3+,Kd5,a5,Ke6,a4,Kf7,Rb3,Rg1,Rb8,Rg5,Rb7+,Kf6,a3,Rxc5,a2', 'Rc8#', 'https://lichess.org/training/0A5yl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0aISs', 'Blitz', 'SIULUTA', 2222, 'MVL2002', 2068, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Nh6,b4,cxd4,cxd4,Nf5,Bb2,Bd7,Be2,Rc8,O-O,Be7,Qd3,O-O,Nbd2,a6,Nb3,Na7,Nc5,Bb5,Qd2,Bxe2,Qxe2,Rc7,g4,Nh4,Nxh4,Bxh4,f4,Be7,f5,Bxc5,dxc5,Qb5,Qf3,Rcc8,f6,g6,Qe3,Kh8,Qh6,Rg8,Rf3,Qe2', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/0aISs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0AMjq', 'Rapid', 'Mahmoud_M_Fathy95', 2102, 'Valery37', 2150, 'g3,d5,d4,Nc6,Nf3,Bf5,Bg2,e6,O-O,h6,a3,Nf6,Nc3,Bd6,b4,a6,Na4,O-O,Nc5,b6,Nd3,Re8,Bb2,Be4,Rc1,b5,Nc5,Qe7,Nxe4,Nxe4,Nd2,f5,f3,Nf6,e4,dxe4,fxe4,fxe4,Nxe4,Nd5,Qd3,Rf8,c4,bxc4,Rxc4,Rxf1+,Bxf1,Nd8,Nc5,c6,Rc1,a5,Re1,axb4,axb4,Bxc5,bxc5,Qb7,Bc1,Qb4,Bd2,Qa3,Qg6,Qb2,Bd3,Qxd4+', 'Be3,Qxd3,Qxd3', 'https://lichess.org/training/0AMjq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0an3A', 'Rapid', 'Gmeny', 1828, 'Lqpe', 1845, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,c3,e5,Nf3,b5,Bg5,Be7,O-O,Nbd7,a4,Bb7,axb5,axb5,Rxa8,Qxa8,Bxb5,Bxe4,Nbd2,Bf5,Nh4,Be6,Nc4,O-O,Nxd6,Rd8,Ndf5,h6,Nxe7+,Kf8,Bxf6,Nxf6,Qf3,Qxf3,Neg6+,fxg6,Nxg6+,Kg8,gxf3,Rd2,Nxe5,Rxb2,c4,Re2,f4,Nh5,Ng6,Kf7,c5,Rb2,Ba4,Rb4,Ra1,Nxf4,Nxf4,Rxf4,c6', 'Rg4+,Kf1,Bc4+,Ke1,Rg1+,Kd2,Rxa1', 'https://lichess.org/training/0an3A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ANCp', 'Rapid', 'Arik-345', 1669, 'sejawas', 1716, 'e4,e5,Nf3,Nc6,Bc4,Bc5,h3,Nf6,d3,O-O,Bg5,d6,Bd5,Be6,Bxe6,fxe6,O-O,Qd7,Bxf6,Rxf6,Nh2,Raf8,Ng4,Rg6,Nd2,h5,Nh2,Qf7,Qxh5', 'Rxg2+,Kxg2,Qxh5', 'https://lichess.org/training/0ANCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0aOPI', 'Rapid', 'Starshoy', 1907, 'rodantero', 2133, 'e3,e5,b3,d5,Qh5,Nc6,Bb5,Qd6,Bb2,Bd7,Bxc6,Bxc6,Qxe5+,Qxe5,Bxe5,O-O-O,Nf3,f6,Bc3,Bd6,Nd4,Bd7,a4,Nh6,Nb5,Bxb5,axb5,Kb8,Bb2,Ng4,h3,Ne5,f4,Nd7,c4,Nc5,d4,Nd3+,Kd2,Nxb2,c5,Be7,Ra2,Nc4+,bxc4,dxc4,Na3,Bxc5,Nxc4,Rhe8,Kc3,Bb6,Re1,Re7,Rae2,c6,Nxb6,axb6,bxc6,bxc6,e4,Kb7,g4,Ra8,Rb2,Kc7,e5,fxe5,dxe5,Rd7,Re3,g6,Kc4,Ra4+,Rb4,Rxb4+,Kxb4,Rd4+,Kc3,Rxf4,e6,Kd8,e7+,Ke8,Kd3,c5,g5,c4+,Kc3,b5,Kb4,Rf5,h4,Rd5,Re4,Rd3,Kxb5,c3,Kb4', 'c2,Rc4,Rd4,Rxd4,c1=Q', 'https://lichess.org/training/0aOPI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ApFD', 'Blitz', 'theundertaken', 2313, 'WCM Jaqueline142', 2280, 'e4,c5,Nc3,e6,f4,d5,exd5,exd5,Bb5+,Nc6,Qe2+,Be7,Nf3,Nf6,Ne5,Qc7,O-O,O-O,Bxc6,bxc6,Nxc6,Qxc6,Qxe7,Be6,d4,cxd4,Ne2,Qb6,Kh1,Rac8,f5,Rfe8,Qa3,Bxf5,Rxf5,Rxe2,Bg5,Ne4,Bh4,Rexc2,Raf1,f6,Rxd5,Rc1,Rf5,Rxf1+,Rxf1,Qc5,Qb3+,Kh8,Qe6,Nd2,Re1,h6,Bxf6,Rg8,Bh4,d3,h3,Qh5,Bf2,Qe8', 'Qxe8,Rxe8,Rxe8+', 'https://lichess.org/training/0ApFD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0aPyH', 'Blitz', 'gholamreza', 2343, 'nuyet', 2341, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Qe7,Bf4,Nd5,Bg3,Qb4+,Nd2,Qxb2,Rb1,Qd4,Rb3,Be7,c4,Nb6,Bd3,d5,exd6,Bxd6,O-O,O-O,Nf3,Qf6,c5,Bxc5,Bxh7+,Kxh7,Qc2+,Qf5,Qc1,Bd6,Qxc6,Bd7,Qc1,Kg8,Rd1,Bxg3,hxg3,Ba4,Rxb6,cxb6,Rd4,Bb5,Rf4,Qe6,Qb1,Qd5,Rh4,g6,Qb2,f6,Qc1,Kf7,Rh7+,Ke6,Qe3+,Kd6', 'Qe7+,Kc6,Qc7#', 'https://lichess.org/training/0aPyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ATq4', 'Rapid', 'alireza3737', 1910, 'Vanraj', 2082, 'e4,c5,Bc4,Nc6,Nh3,Nf6,O-O,Nxe4,Bxf7+,Kxf7,Qh5+,g6,Qd5+,e6,Qxe4,Bg7,d3,Rf8,Ng5+,Kg8,Nc3,d5,Qe3,Qf6,Qxc5,Nd4,Be3,Nxc2,Rac1,Nxe3,Qxe3,d4,Nxh7,Kxh7,Qh3+,Kg8,Ne4,Qf5,Qh4,Be5,Ng5,Kg7,Qh7+,Kf6,Ne4+,Qxe4,dxe4,Rf7,Qh4+,Kg7,f4,Bf6,Qg3,Bd7,e5,Be7,Rc7,Bc6,Qb3,d3,Qxd3', 'Bc5+,Kh1,Rxc7', 'https://lichess.org/training/0ATq4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0awKU', 'Bullet', 'FM Sandstad', 2166, 'polemios', 2053, 'e4,e6,Nf3,d5,e5,c5,b4,cxb4,a3,Nc6,d4,bxa3,Nxa3,Bxa3,Bxa3,Nge7,Bd3,O-O,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,f5,exf6,Rxf6', 'Nxe6+,Kf7,Nxd8+', 'https://lichess.org/training/0awKU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0aWLA', 'Blitz', 'c6_auf_alles', 2485, 'GM ledinavelosipede', 2554, 'Nc3,d5,e4,c6,f4,d4,Nce2,e5,fxe5,Qh4+,Ng3,Bg4,Nf3,Bxf3,Qxf3,Nd7,d3,Nxe5,Qf4,Qxf4,Bxf4,Bd6,Bd2,g6,Be2,h5,h3,Nxd3+,cxd3,Bxg3+,Kd1,Be5,Rf1,f6,Bb4,b6,a4,c5,Bd2,a5,Ke1,Ne7,Bd1,Nc6,Bb3,Ra7,Bd5,Ne7,Bc4,g5,Ke2,Ng6,Bb5+,Ke7,Rf5,Nh4', 'Rxe5+,fxe5,Bxg5+,Kd6,Bxh4', 'https://lichess.org/training/0aWLA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0AXOd', 'Rapid', 'Sehist', 1700, 'seranne', 1670, 'd4,d5,Nf3,Bg4,e3,e6,Be2,Nf6,O-O,a6,Ne5,Bxe2,Qxe2,c5,Nc3,Nc6,Nxc6,bxc6,b3,Qb6,Na4,Qa7,Bb2,cxd4,Bxd4,Qb7,Bxf6,gxf6,e4,Qb5,Rfe1,Qxe2,Rxe2,Bg7,Rd1,dxe4,Rxe4,Rd8,Rxd8+,Kxd8,Nc5,e5,Nxa6,Kd7,Nc5+,Kd6,b4,Ra8,a4,Kd5,f3,f5,Re2,Bf8,Rd2+,Kc4,Nd7,Bxb4,Re2,Rxa4', 'Nb6+,Kb5,Nxa4', 'https://lichess.org/training/0AXOd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ayMe', 'Bullet', 'naprof', 1742, 'Noves', 1766, 'e4,e6,d4,d5,exd5,exd5,c4,dxc4,Bxc4,Bd6,Qb3,Qe7+,Ne2,Nf6,Bg5,O-O,Bxf6,Qxf6,O-O,Bf5,Qxb7,Nd7,b3,Rfb8,Qf3,Re8,Nbc3,Qh4,Ng3,Bg4,Qc6,Nf6,Nd5,Nh5,Nxc7,Nxg3,fxg3,Qh6,Bxf7+,Kh8,Nxe8,Qe3+,Rf2,Qxd4,Rc1,Qe3,Qxa8', 'Qxc1+,Rf1,Bc5+,Kh1,Qxf1#', 'https://lichess.org/training/0ayMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0b0G4', 'Rapid', 'MooGroc', 1726, 'fenntun', 1671, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Ng4,cxd4,Bb6,O-O,O-O,h3,Nh6,Bxh6,gxh6,Qd2,d5,Bd3,Nxd4,Nxd4,Bxd4,Qxh6,f5,Nc3,Bxe5,Rfe1,Bxc3,bxc3,Qd6,Qg5+,Qg6,Qf4,c5,Qe5,Bd7,Qxd5+,Rf7,Qxb7', 'Bc6,Qxc6,Qxc6', 'https://lichess.org/training/0b0G4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0b3mE', 'Blitz', 'ducdebourbon', 1530, 'saydem1', 1572, 'e4,e5,Nf3,Nf6,Nc3,Bb4,a3,Bxc3,bxc3,d6,d3,Nbd7,Bd2,c6,c4,b6,Be2,Ba6,O-O,b5,cxb5,Bxb5,Rb1,Rb8,Bb4,O-O,Bxd6,g5,Bxf8,Qxf8,Rb3,Qh6,h3,g4,hxg4,Nxg4,c4,Kh8,cxb5,cxb5,d4,Rg8,Bxb5,Rg5,Bxd7,Rh5,g3', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/0b3mE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0b5vN', 'Classical', 'SoSerendipitous', 1819, 'rolandfrank', 1762, 'd4,d5,e4,dxe4,f3,exf3,Nxf3,g6,Bc4,e6,O-O,c6,Nc3,Bg7,Ne5,Nf6,Bg5,Nbd7,Nxd7,Qxd7,Bxf6,Bxf6,Rxf6,O-O,Qg4,b5,Bd3,a5,Raf1,Bb7,Qf4,Kg7,Ne4,Rae8,Nd6,Re7,Qe5,Kg8,Bxg6,hxg6,Rxg6+,fxg6', 'Rxf8+,Kxf8,Qh8#', 'https://lichess.org/training/0b5vN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0B7j6', 'Blitz', 'CM fleeblon24', 2386, 'IM ich2', 2434, 'e4,c5,d4,cxd4,c3,g6,cxd4,d5,Nc3,dxe4,Bc4,Nf6,Nge2,Bg7,O-O,O-O,Ng3,Nc6,Be3,Bf5,Bb3,Nb4,Bg5,Nd3,Bxf6,exf6,Nxf5,gxf5,Qh5,Qd7,Nd5,f4,Rac1,Nxc1,Rxc1,Rac8,Re1,f5,Qg5,Kh8,Qxf4,Bxd4,Rd1,Bxb2,Qh4,Rg8', 'Nf6,Qxd1+,Bxd1,Bxf6,Qxf6+', 'https://lichess.org/training/0B7j6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0B9iA', 'Blitz', 'Gorgani2003', 2060, 'Lucky-Luke-76', 1901, 'd4,d5,Nf3,f5,Bf4,e6,e3,Nf6,h4,Bd6,Ne5,c5,dxc5,Bxc5,Nd2,Nc6,Ndf3,O-O,c3,Ne4,Be2,Bd7,Qc2,Be8,h5,a5,O-O-O,Qe7,Rdg1,Nxe5,Nxe5,Nxf2,Rh3,Nxh3,gxh3,Kh8,Qd1,Rc8,Bd3,b5,Ng6+,hxg6,hxg6,Qh4,Rg5,Kg8,Rh5,Qf2', 'Rh8+,Kxh8,Qh5+,Kg8,Qh7#', 'https://lichess.org/training/0B9iA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Bfrb', 'Rapid', 'Espedidomelchor28', 1902, 'baresi', 1896, 'd4,d5,f4,Nc6,Nf3,Bf5,e3,Nf6,Bd3,Ne4,O-O,e6,Ne5,Nxe5,fxe5,Qg5,Bxe4,Bxe4,Rf2,O-O-O,Nc3,Bf5', 'e4,Qg6,exf5', 'https://lichess.org/training/0Bfrb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BfYI', 'Rapid', 'vigoregino', 1665, '1169', 1637, 'e4,e5,d3,Bc5,c3,d6,g3,h6,Nh3,Bxh3,Bxh3,Qf6,f3,Ne7,Nd2,O-O,Nc4,d5,b4,Bxb4,cxb4,dxc4,O-O,a6,Qc2,b5,Bb2,Nbc6,a3,Qd6,dxc4,bxc4,Rad1,Nd4,Qxc4,Nxf3+,Kg2,Nd4,Bxd4,exd4,Rxd4,Qe5,Bf5,g6,Bg4,h5,Bf3,c6,Rfd1,Kg7,Qc5,Qxc5,bxc5,Rab8,Rd7,Rb2+,Kh1,Re8,e5,Rf2,Bg2,Ra2,Ra7,Rxa3,e6,fxe6', 'Bxc6,Rc8,Rxe7+', 'https://lichess.org/training/0BfYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BHG5', 'Rapid', 'Mangus_carsen', 1920, 'Andrei1989prof', 1835, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,e5,c5,Qd3,Ng4,Qf5,d5,Bb5+,Bd7,e6,Bxb5', 'Qxf7#', 'https://lichess.org/training/0BHG5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BHZb', 'Rapid', 'setmiks', 1715, 'REMIT_01', 2044, 'e4,c5,f4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Nc6,Be3,Qb6,Na4,Qa5+,c3,cxd4,Nxd4,Bg4,Be2,Bxe2,Nxe2,Ne4,O-O,b5,b4,Qxa4', 'Qxd5,Rc8,Qxe4+', 'https://lichess.org/training/0BHZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BIxv', 'Blitz', 'KingOfChess69420', 1811, 'PseudoJettable', 1823, 'e4,c5,Nf3,d6,c3,e5,Bc4,Nf6,d3,Nc6,O-O,Be7,Bd2,O-O,Bb3,Bg4,h3,Bh5,Be3,h6,Nbd2,Qd7,Qc2,Rac8,Nh2,a6,a4,Nh7,Ndf3,Kh8,Qd2,f5,exf5,Qxf5,Bc2,Bg6,Rac1,Qf6,Ng4,Qf7,d4,e4,Nfh2,d5,dxc5,Bxc5,Bxc5,Rfe8,Be3,Nf6,Nxf6,Qxf6,Ng4,Qf7,Bb3,Rcd8,Bd4,h5,Ne3,Na5,Bxd5,Rxd5,Nxd5,Nb3,Qd1,Nxc1,Qxc1,Qxd5,Rd1,Qc6,Qe3,Qxa4,b4,Qxd1+,Kh2,Qd3', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/0BIxv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BiXY', 'Rapid', 'ToGani', 1568, 'krishankantmehra', 1887, 'e4,e5,Nc3,Nf6,Nf3,Bc5,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,Be3,Bb6,Qd3,O-O,O-O-O,a5,h3,Re8,Na4,Ba6,Qc3,Nxe4,Qe1,Bxe3+,Qxe3,Bb5,Bxb5,cxb5,Nc3,Nxc3,Qxc3,b4,Qd3,d6,Rhe1,Rxe1,Rxe1,Qd7,Qe3,h6,f3,a4,Qe4,Rb8,g4,b3,axb3,axb3,c3,Kf8', 'Qh7,f6,Qh8+,Kf7,Qxb8', 'https://lichess.org/training/0BiXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BJ7k', 'Rapid', 'Dawiduuu', 1983, 'el_perro_orfeo', 2038, 'd4,Nf6,c4,d5,c5,c6,Nc3,e5,e3,exd4,exd4,Be7,Nf3,O-O,Bd3,Bg4,O-O,Nbd7,Be2,Re8,Bd2,Nf8,Be3,Ng6,Re1,Qc7,h3,Bf5,Qd2,Be4,Nxe4,Nxe4,Qc2,f5,Bd3,f4,Bxe4,dxe4,Nd2,fxe3,Rxe3,Bg5,Rxe4,Bxd2,Rxe8+,Rxe8,Qxd2,Qf4,Qb4,Re2', 'Qc4+,Qf7,Qxe2', 'https://lichess.org/training/0BJ7k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BJad', 'Rapid', 'FransRoes', 1712, 'tonylith', 1701, 'Nf3,g6,d4,Bg7,c4,d6,e4,Nc6,Nc3,e5,Be3,Bg4,d5,Nce7,Be2,Nf6,h3,Bd7,Qd2,h6,Bd3,g5,g4,a6,O-O-O,Rb8,Ne2,b5,Ng3,bxc4,Bxc4,Qc8,Kb1,O-O,Qd3,Ra8,Nf5,Nxf5,gxf5,Nxe4,Ka1,Bxf5,Qe2,Qd7,Rdg1,Rfb8,h4,g4,Nd2,Nxd2,Qxd2,h5,Bh6,f6,Bxg7,Qxg7,f3,Bd7,fxg4,Bxg4,Qd3,f5,Rg2,e4,Qd2,Rb6,Rhg1,Rab8,Bb3,a5,Qxa5,Qd4,Qd2,Qe5,Qg5+,Qg7,Qxf5,Bxf5,Rxg7+,Kh8,R7g5,Bg4,Rg6,Kh7,Rf6,Rg8,Rf7+,Rg7,Rgf1,e3,Bc2+,Kh8,Rf8+,Rg8,Rxg8+,Kxg8,Re1,e2,Bd3,Rb4,Kb1,Rd4,Kc2,Rxd5', 'Bc4,Kg7,Bxd5', 'https://lichess.org/training/0BJad');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BJHH', 'Rapid', 'Arnav3305', 1694, 'amitkumarbiyani', 1707, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bf5,Bc4,Nf6,O-O,e6,Re1,Be7,d3,Nbd7,Bf4,c6,Ne5,h6,Nxd7,Qxd7,Qf3,Bd6', 'Bxd6,Qxd6,Qxf5', 'https://lichess.org/training/0BJHH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BjiB', 'Rapid', 'Talinus', 1647, 'asagatojoj', 1671, 'e4,c5,Nf3,Nc6,Nc3,d6,d4,cxd4,Nxd4,a6,Be3,Nf6,Be2,g6,Qd2,Bg7,O-O-O,Bd7,Bh6,O-O,Bxg7,Kxg7,h4,h5,Rdg1,b5,a3,a5,g4,b4,axb4,axb4,Nb1,Nxe4,Qe3,Nxd4,Qxe4,Nxe2+,Qxe2,Bxg4,Rxg4,hxg4,Qxg4,Rh8,h5,e5,f4,exf4,Qxf4,Qf6', 'h6+,Rxh6,Qxh6+', 'https://lichess.org/training/0BjiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0bkEV', 'Rapid', 'ritwiknigam', 1899, 'handsomechuck', 1973, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,cxd4,cxd4,Nge7,Na3,Nf5,Nc2,Qb6,O-O,Be7,b3,O-O,Bb2,Rac8,Rc1,Nb4,Nxb4,Qxb4,a3,Qb6,Rxc8,Rxc8,g4,Nh4,Nxh4,Bxh4,Kg2,Bb5,Bxb5,Qxb5,Re1,Qc6,Qd2,Qc2', 'Rc1,Qxc1,Bxc1', 'https://lichess.org/training/0bkEV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BlMI', 'Rapid', 'pawn-x', 2072, 'mr-hakim', 2018, 'd4,d5,c4,c6,Nc3,e6,e3,Bd6,Nf3,Ne7,Bd3,Nd7,cxd5,exd5,O-O,O-O,Bd2,f5,Rc1,Ng6,g3,Nf6,Qb3,Kh8,Kg2,Ne4,Be1,Qd7,Ng1,f4,exf4,Bxf4,Rd1,Ng5,Bxg6,hxg6,gxf4,Rxf4,Nce2,Rf3,Nxf3', 'Qh3+,Kg1,Nxf3+,Qxf3,Qxf3', 'https://lichess.org/training/0BlMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BmRN', 'Classical', 'PAPPUJHAJHA', 1847, 'acecalamity', 1998, 'e4,e6,Nf3,d5,e5,c5,d3,Nc6,Bg5,Qc7,Bf4,Nge7,Nc3,Ng6,Nb5,Qb8,Bg3,Ngxe5,Nxe5,Nxe5,d4,cxd4,Qxd4,f6,Qa4,Bd7,Qf4,a6,Nc3,Bd6,Qh4,O-O,Bxe5,Bxe5,Bd3,f5,g3,Qc7,Nd1,Bf6,Qh5,Qe5+,Qe2,Qxe2+,Bxe2,Rac8,c3,d4,c4,Bc6,O-O,Rfd8,Bd3,g6,f4,Be4,Nf2,Bxd3,Nxd3,Rxc4,Rfe1,Rd6,a3,Rc2,Rec1,Rdc6,Rd1,Re2,Re1,Rcc2,Rxe2,Rxe2,b4,Re3,Nc5,b5,Nxa6,d3,Rd1,Bb2,Nc5,Bxa3,Nxd3,Re4,Rb1,Rc4,Rb3,Bc1,h4,Kf7', 'Ne5+,Ke7,Nxc4,bxc4,Rc3', 'https://lichess.org/training/0BmRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BmwD', 'Classical', 'awesomeandmodest', 1676, 'nycspies', 1601, 'd4,d5,Bf4,c5,Nf3,Nc6,c3,Nf6,e3,Bg4,Nbd2,e6,Bb5,cxd4,Bxc6+,bxc6,cxd4,Bb4,O-O,Bxd2,Qxd2,Bxf3,gxf3,O-O,Rac1,Rc8,Rc5,Nd7,Ra5,Ra8,Ra6,Nb6,b3,Qc8,Qa5,Qb7,Rc1,Rfc8,Bd6,Qd7,Bc5,Qd8,Bxb6,axb6,Qa3,Rxa6,Qxa6,Ra8,Qe2,c5,dxc5,d4,exd4', 'Qg5+,Kf1,Qxc1+', 'https://lichess.org/training/0BmwD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Bs6i', 'Rapid', 'Willian2018', 1843, 'Reavf', 1804, 'd4,d5,c4,dxc4,Qa4+,c6,Qxc4,Nd7,Nf3,Nb6,Qc2,g6,Nc3,Bf5,e4,Bd7,Bd3,Bg7,Be3,Qc7,Rc1,Nf6,Qd2,Ng4,Bf4,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Qxe5,f4,Qf6,O-O,O-O,f5,Qd4+,Kh1,Rfd8,Ne2,Qe5,f6,Be6', 'Qh6,Qxf6,Rxf6', 'https://lichess.org/training/0Bs6i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0bs8W', 'Rapid', 'EnRist', 1709, 'Tomas2003', 1765, 'e4,c5,Nc3,e6,a3,d5,exd5,exd5,Bb5+,Bd7,Qe2+,Qe7,Nxd5,Qxe2+,Nxe2,Bxb5,Nc7+,Kd7,Nxb5,Nf6,d3,Nc6,O-O,a6,Nbc3,Bd6,Be3,h5,Bf4,Bxf4,Nxf4,g5,Nfd5,Nxd5,Nxd5,Rae8,Nb6+,Kc7,Na4,Re2,Rac1,Nd4,Nxc5,Rxc2,Rxc2,Nxc2,Ne4,f5,Nxg5,Rd8,Rc1,Rxd3,g3,Rd2,Ne6+,Kd6,Ng7,Nd4,Nxh5', 'Ne2+,Kg2,Nxc1', 'https://lichess.org/training/0bs8W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0bSd5', 'Rapid', 'pramodrao', 1650, 'topolecka', 1709, 'e4,b6,Nf3,Bb7,Nc3,e6,d3,Bb4,Bd2,h6,a3,Be7,Ne5,Nc6,Nxf7,Kxf7,Qh5+,g6,Qf3+,Kg7,Ne2,Qf8,Bc3+,Bf6,Qg3,Bxc3+,bxc3,d6,Nf4,Qf6', 'Nh5+,Kf7,Nxf6', 'https://lichess.org/training/0bSd5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0BTSu', 'Rapid', 'terencetao', 1963, 'Viravato', 1964, 'd4,Nf6,c4,e6,e3,c6,Nf3,d5,Nbd2,a6,b3,dxc4,Nxc4,b5,Nce5,Bb7,Bb2,Qa5+,Qd2', 'Bb4,a3,Bxd2+', 'https://lichess.org/training/0BTSu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0btyW', 'Classical', 'safecar', 1623, 'Yv19', 1967, 'd4,e6,Nf3,c5,c3,Nf6,Bf4,Be7,e3,O-O,Bd3,Nc6,O-O,h6,Nbd2,Nh5,Bg3,Nxg3,hxg3,a6,a4,b6,Nc4,Qc7,Nce5,Nxe5,Nxe5,d6,Nf3,c4,Be2,Rb8,Nd2,d5,Rc1,b5,b3,Bd7,bxc4,dxc4,axb5,Bxb5,Rb1,a5,Qc2,Rfd8,Qa2,Be8,Nxc4,Bb5,Qxa5', 'Qxa5,Nxa5,Bxe2', 'https://lichess.org/training/0btyW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0bWMk', 'Rapid', 'alxolr', 1726, 'aHa_Ember', 1634, 'd4,d5,Bf4,e6,e3,c5,c3,a6,Nf3,Nc6,Be2,Nf6,Nbd2,Be7,dxc5,Bxc5,O-O,O-O,Bd3,Re8,Ne5,Nxe5,Bxe5,Be7,Nf3,Bd6,Qc2,Bxe5,Nxe5,Qc7,f4,Qb6,Qe2,Qc7,g4,Ne4,Bxe4,dxe4,Rad1,b5,g5,a5,Qg2,b4,cxb4,Ba6,Rd7', 'Bxf1,Rxc7,Bxg2', 'https://lichess.org/training/0bWMk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Bx5V', 'Rapid', 'Fujurenix1', 2217, 'nasztata', 2190, 'd4,Nf6,Nf3,e6,g3,c5,Bg2,d5,O-O,Nc6,c4,cxd4,Nxd4,Bc5,Nb3,Bb6,cxd5,exd5,Nc3,d4,Na4,O-O,Bg5,Re8,Nxb6,axb6,Bxc6,bxc6,Nxd4,Bh3,Re1,Qd5,Nf3,Qxd1,Raxd1,Rxa2,Bxf6,gxf6,Rd2,Bg4,Nd4,c5,Nb5,c4,Kg2,Ra5,Nd6,Rd8,Nxc4,Rxd2,Nxd2,Ra2,Nc4,b5,Ne3,Bh5,Nd1,Ra1,f3,f5,Kf2,Rb1,h3,f6,Ne3,Rxb2,Nxf5,Kf7,Rc1,Bg6,Nd4,Bd3,Rc7+,Kg6,Rb7,Bc4,h4,b4,Ke3,b3,f4,Rb1,f5+,Kh6,Ne6,Kh5,Kf3', 'Bd5+,Ke3,Bxb7', 'https://lichess.org/training/0Bx5V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0bxrC', 'Rapid', 'aliabbasi75', 1679, 'gurcekic', 1627, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Nf3,Bg4,h3,Bxf3,Qxf3,e6,Bb5,Qc7,O-O,O-O-O,a4,f6,Bf4,g5,Bh2,h5,exf6,g4,Bxc7,gxf3,Bxd8,Kxd8,Bxc6,bxc6,f7,Nf6,gxf3,Ke7,dxc5,Kxf7,b4,Bg7,Nd2,Nd7,Rac1,Ne5,c4,Bh6,Rfd1,Rg8+,Kf1,Nd3,Rb1,Nf4,cxd5,exd5,h4,Nh3,b5,cxb5,axb5,Ke7,Nb3,Bf4,Rxd5,Rg1+,Ke2,Rxb1,Nd4,Rb2+,Kd1,Nxf2+,Ke1,Nd3+,Kf1,Rf2+,Kg1,Be3', 'Nf5+,Ke8,Nxe3', 'https://lichess.org/training/0bxrC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0c3TC', 'Blitz', 'CM Bibekthing', 2411, 'fankasp', 2458, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,g3,Nc6,Bg2,e6,Ne2,d3,Qxd3,Nxe5,Qc2,Bc5,O-O,O-O,Nd2,b6,Nb3,Bb7,Nf4,Nxf4,Bxb7,Nh3+,Kh1,Ng4,Nxc5,bxc5,Bg2,Nhxf2+,Rxf2,Nxf2+,Qxf2,Rc8,Be3,Qb6,b4,d6,Rd1,Qa6,bxc5,dxc5,Bxc5,Rfd8,Rf1,f6,Bxa7,Rxc3,Bd4,Rd3,Bxf6,Rf8,Be4,Rxf6,Qe2,Rxf1+,Qxf1,Ra3,Qb1,Rxa2,Qb8+,Kf7,Qc7+,Kf6,Qf4+,Ke7,Qc7+,Ke8', 'Bc6+,Qxc6+,Qxc6+', 'https://lichess.org/training/0c3TC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0c61a', 'Rapid', 'Arben-01234', 2167, 'Chalitoxdxd', 2134, 'e4,c5,d3,d6,f4,g6,Nf3,Bg7,c3,Nf6,Be2,h5,O-O,Ng4,Na3,e5,fxe5,Bxe5,Nxe5,dxe5,Nc2,Qh4,Bxg4,hxg4,Ne3,Qxh2+,Kf2,g3+,Ke1,Qh4,Qf3,Be6,Kd2,Nc6,Kc2,O-O-O,Bd2,f5,exf5,gxf5,Rh1,Qa4+,b3,Rxh1,bxa4,Rxa1,c4,Rxa2+,Kc1,Rxd3,Qh5,Ra1+,Kc2,Rd8,Bc3,Nd4+,Kb2,Rxa4,Nd5,Bxd5,cxd5,e4,Bxd4,Rxd4,Qxf5+,Kc7,Qe5+,Kb6', 'Qf6+,Ka5,Qxd8+', 'https://lichess.org/training/0c61a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0CAwt', 'Rapid', 'PecaturTebingTinggi', 2015, 'irfanaslam', 2119, 'f4,d5,Nf3,c5,e3,Nc6,b3,Bf5,Bb2,e6,Bb5,Ne7,O-O,a6,Be2,h6,Qe1,Bg6,Ne5,Nxe5,Bxe5,Nc6,Bb2,d4,Bd1,Be7,e4,O-O,f5,exf5,exf5,Bh7,Na3,Bf6,Nc4,Re8,Qg3,b5,Na3,Qd7,Bf3,Bxf5', 'Bxc6,Qxc6,Rxf5', 'https://lichess.org/training/0CAwt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0cCn2', 'Blitz', 'jonye', 1608, 'taparillo', 1689, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,c5,c3,cxd4,exd4,Bd6,Bb5+,Nc6,Bxd6,Qxd6,O-O,O-O,Nbd2,a6,Bxc6,bxc6,b3,a5,c4,dxc4,Nxc4,Qf4,Nfe5,Ba6,g3,Qh6,Qf3,Bxc4,Nxc4,a4,Qxc6,axb3,axb3,Rxa1,Rxa1,Ng4,Ra8', 'Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/0cCn2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0CcpF', 'Rapid', 'swinegobbler', 1939, 'Rezaahmadih', 1941, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,f4,e6,Nf3,Nf6,Bd3,Bxd3,Qxd3,Bd6,Ne5,Bxe5,fxe5,Nd5,c3,Nd7,Ne4,O-O,Bd2,N5b6,Nd6,c5,Nxb7,Nxe5,Qg3,Qc7,dxe5,Qxb7,Bxh6,Qe4+,Qe3,Qxe3+,Bxe3,Nc4,Bxc5,Rfc8,Bd4,Nxb2,Ke2,Na4,Rac1,Rc4,h6,g6,Rh3,a6,g4,Rac8,g5', 'Rxd4,cxd4,Rxc1', 'https://lichess.org/training/0CcpF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0CCRA', 'Rapid', 'predkoo', 2052, 'maia9', 1944, 'f4,d5,e3,Bf5,Nf3,e6,b3,Nf6,Bb2,Be7,Bb5+,c6,Bd3,Bxd3,cxd3,Nbd7,O-O,O-O,Nc3,Rc8,Ne2,c5,Rc1,b5,Ne5,Nxe5,fxe5,Nd7,Ng3,c4,bxc4,bxc4,dxc4,dxc4,Qg4,Nb6,Nh5,g6,Nf6+,Bxf6,exf6,Qxd2,Qf4,Qxb2', 'Qh6,Qxf6,Rxf6', 'https://lichess.org/training/0CCRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Cfkw', 'Blitz', 'FM chessmathmunich', 2319, 'ganerd20', 2249, 'e4,c5,c3,d5,exd5,Qxd5,d4,e5,Nf3,Bg4,Qa4+,Bd7,Bb5,exd4,cxd4,Nf6,Nc3,Qe6+,Be3,Nc6,O-O-O,a6,d5,Nxd5,Nxd5,O-O-O,Nb6+,Kb8,Nxd7+,Rxd7,Bxc6,Rxd1+,Rxd1,Qxc6,Qxc6,bxc6,Rd8+,Kc7,Ra8,g6,Bxc5', 'Bh6+,Kc2,Rxa8', 'https://lichess.org/training/0Cfkw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0cHnF', 'Blitz', 'bwegung', 1880, 'romankart', 1851, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Nc3,Nf6,Bc4,Be7,O-O,O-O,f4,a6,Nxc6,bxc6,Qf3,Bb7,e5,Nd7,e6,fxe6,Bxe6+,Kh8,f5,Rb8,Qh3,Bf6,Rf3,c5,Rg3,Be5', 'Qxh7+,Kxh7,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/0cHnF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0cieE', 'Rapid', 'dogosonico', 1634, 'capro', 1756, 'e4,c5,Bc4,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,e5,Qd3,Nf6,Bg5,Be7,Bxf6,Bxf6,O-O,O-O,Nc3,Qc7,Nd5,Bxd5,Qxd5,Qxc2,Qxd6,Qxe4,Rfe1,Rad8', 'Qxf8+,Kxf8,Rxe4', 'https://lichess.org/training/0cieE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0cO3c', 'Classical', 'ondrej1954', 1681, 'SagitariusB', 1644, 'c4,e5,d4,exd4,Qxd4,Nc6,Qd1,Qh4,e3,Bd6,Nf3,Qf6,Nc3,Nge7,Be2,a6,a3,b5,cxb5,axb5,Nxb5,Bb7,Nxd6+,cxd6,O-O,O-O,Qc2,Rfc8,Qb3,Na5,Qb5,Nec6,Bd2,Ba6,Bc3', 'Bxb5,Bxf6,Bxe2', 'https://lichess.org/training/0cO3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0CWTj', 'Rapid', 'jebisesome', 2077, 'Gyisus', 2011, 'd4,d5,f4,f5,Nf3,Nf6,e3,e6,Bd3,Be7,Nbd2,Nc6,c3,a6,a3,b5,Qe2,Na5,O-O,Nc4,b3,Nb6,c4,bxc4,bxc4,c5,cxd5,Nfxd5,Bb2,O-O,dxc5,Bxc5,Bd4,Bxd4,Nxd4,Nxf4,Rxf4,e5,Nc6,Qd6,Nxe5,Qxe5,Rb1,Nd5,Bc4,Kh8,Bxd5,Qxd5,Nf3,Bb7,Rd1,Qc5,Qd3,Rae8,Nd4,Rf6,Qb3,Be4,Qb4,Qd5,Rd2,Rg6,Nf3,Qc6,Ne5,Rxe5,Rd8+,Re8', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/0CWTj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0cY5b', 'Rapid', 'novasorc', 1737, 'Eichelober', 1721, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Be3,Be7,f3,O-O,Qd2,Nc6,Bc4,Nxd4,Bxd4,e5,Be3,b6,h4,Bb7,O-O-O,Rc8,Bb3,Ba6,g4,Bc4,Bxc4,Rxc4,h5,Nd7,g5,f6,Nd5,fxg5,Nxe7+,Qxe7,Bxg5,Qf7,Qxd6,Rd4,Rxd4,exd4,Qxd4,Qxf3,Qc4+,Kh8,Rd1,Qxh5,Be7,Ne5,Qd5,Re8,Bd6,Rd8', 'Qxe5,Qxe5,Bxe5', 'https://lichess.org/training/0cY5b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0CYxG', 'Blitz', 'SergeyB78', 1606, 'GambyThe4th', 1642, 'e4,e5,Nf3,Nf6,d3,Nc6,Bg5,Nd4,Nxe5,d6,Nc4,Be7,c3,Ne6,Bh4,O-O,Be2,b6,Nbd2,Bb7,Nf3,d5,exd5,Bxd5,Ne3,c5,Nxd5,Qxd5,O-O,Rad8,Bg3,Bd6,c4,Qc6,Ne5,Bxe5,Bxe5,Rfe8,Bxf6,gxf6,Bf3,Qd6,Be4,Nf4,Qg4+,Kh8,Rad1,Rg8,Qf5,Rg7,h4,Rdg8,g3,Ne2+,Kh2,Nxg3,fxg3', 'Qxg3+,Kh1,Qxh4+,Qh3,Qxh3#', 'https://lichess.org/training/0CYxG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0cZOD', 'Blitz', 'AkademiaSzachowaMat', 2416, 'IM Funo09', 2683, 'd4,Nf6,c4,Nc6,Nf3,e6,a3,d5,Nc3,dxc4,Bg5,Be7,e3,Nd5,Bxe7,Ncxe7,Bxc4,O-O,O-O,b6,e4,Nxc3,bxc3,Bb7,Qe2,c5,Rfd1,cxd4,cxd4,Rc8,Ba6,Qc7,h3,Rfd8,a4,Nc6,Bxb7,Qxb7,d5,exd5,exd5,Nb4,d6,Nd5,Qe5,Rc5,a5,h6,axb6,axb6,Nd4,Nc3,Qe7,Rd7,Qe8+,Kh7,Re1,Rd5,Nf3,R7xd6,Ra8,Rd1,Qg8+,Kg6,Ne5+,Kf5,Qh7+,g6,Rxd1', 'Rxd1+,Kh2,Qxa8', 'https://lichess.org/training/0cZOD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0d34E', 'Rapid', 'andr0505', 1746, 'ng9160', 1905, 'd4,Nf6,Bg5,e6,a3,Be7,Nf3,d5,e3,O-O,c4,c6,Nc3,Nbd7,c5,b6,b4,Qc7,Bf4,Qb7,Bd3,b5,O-O,a5,bxa5,Rxa5,h3,Qa7,Qc1,Bb7,Ne5,Nxe5,Bxe5,Ra8,Nb1,b4,Bc7,Ba6,Bxa6,Rxa6,Bb6,Qb7,Qb2,Ra4,Rd1,Ne4,Rd3,Qa6,Rb3,Qc4,Rxb4', 'Rxb4,axb4,Rxa1', 'https://lichess.org/training/0d34E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0d5Kg', 'Blitz', 'kzmaniac', 1692, 'dateutli', 1667, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,e5,Nf3,Bb4+,c3,Ba5,Bb5,Nge7,O-O,a6,Bxc6,Nxc6,h3,O-O,b4,Bc7,a4,b6,a5,bxa5,bxa5,Nxa5,Be3,Nc4,Nbd2,Nxd2,Qxd2,a5,c4,f6,Nh4,Bb6,c5,Ba7,f4,Bb8,fxe5,Bxe5', 'Qd5+,Kh8,Qxa8,Bxa1,Rxa1', 'https://lichess.org/training/0d5Kg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0d6I4', 'Rapid', 'mikisdefakis', 1936, 'ura84', 1982, 'e4,c6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Qd3,Nxe4,Qxe4,Nd7,Nc3,Nf6,Qe5,Qd6,Nf3,g6,Bf4,Qxe5+,dxe5,Nd5,Nxd5,cxd5,O-O-O,e6,Nd4,Bd7,h4,h5,Bd2,Bg7,f4,O-O,Bb4,Rfe8,Nb3,Bf8,Bxf8,Kxf8,Nc5,Bc6,Rd4,b6,Na6,Rac8,a4,Red8,Kd2,Bb7,Nb4,a5,Nd3,Rc4,c3,Rdc8,Rc1,Ke7,Ne1,Kd7,Nf3,R8c7,g3,Ba6,b3,R4c5,b4,Rc4,b5,Bc8,Rxc4,Rxc4,Ra1,Ke7,Nd4,Bd7,Kd3,Be8,Nf3,f6,Nd2,Rc7,Kd4,f5,Rc1,Rc5,c4,Bd7,Nb3,Rxc4+,Rxc4,dxc4,Kxc4,Kd8,Nd4,Kc7,Nf3,Bc8,Ng5,Bd7,Nf7,Be8,Nd6,Bd7,Kd4,Kb8,Nf7,Be8,Ng5,Bd7,Nh7,Be8,Ke3,Kc7,Kf3,Kb8,Nf6,Bf7,Nd7+,Kc7,Nf8,Kd8,Nh7,Be8,Ng5,Kc7,Nh3', 'Bxb5,axb5,a4,Ng1,a3', 'https://lichess.org/training/0d6I4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0D6R9', 'Rapid', 'topolecka', 1701, 'Dzaniplays', 1613, 'e4,e5,Bc4,Nc6,c3,Bc5,d3,Qf6,Qf3,d6,h3,Qxf3,Nxf3,Nf6,Ng5,Nd8,O-O,h6,Nf3,Be6,Bb3,Bxb3,axb3,O-O,b4,Bb6,Na3,a6,Nc4,Ba7,Be3,Bxe3,fxe3,Ne6,Na5,Rab8,b3,c5,bxc5,Nxc5,d4,exd4,exd4,Ncxe4,c4,Nc3,Kh2,Rfe8,d5,Re2,Nd4,Rd2,Nf5,Re2,Nxd6,Nce4,Nxe4,Nxe4,Rae1,Nc3,Rxe2,Nxe2,Rf2,Nd4,Rd2,Nf5,b4,b6,Nc6,Rc8,b5,axb5,cxb5,Kh7', 'd6,Nxd6,Rxd6', 'https://lichess.org/training/0D6R9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0d6sA', 'Rapid', 'Uncle_Zhenya', 1833, 'mitko', 1839, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Be2,Nf4,O-O,Nxe2+,Qxe2,Bg4,h3,Bh5,d3,Nc6,Be3,Ne5,Nbd2,e6,d4,Nxf3+,Nxf3,Bd6', 'Qb5+,c6,Qxh5', 'https://lichess.org/training/0d6sA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0D7tY', 'Rapid', 'smallfischer123', 2182, 'Silent_killer_7', 2113, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,h3,a6,Ba4,Bd7,Re1,Be7,c3,O-O,d4,exd4,cxd4,Re8,e5,dxe5,dxe5,Nxe5,Nxe5,Bxa4,Qxa4,Bd6,Bf4,Nd5,Nc3,b5,Qd4,Nxf4,Qxf4,f6,Rad1,fxe5,Qg4,Qf6,Ne4,Qh6,Nxd6,cxd6,Qd7,Rad8,Qc6,d5,Qb7,Qf6,Rxd5,Rb8,Qc7,e4,Rxe4,Qxb2,Rf5', 'Qb1+,Kh2,Qxe4', 'https://lichess.org/training/0D7tY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0D8gu', 'Rapid', 'qwerty0000', 1685, 'moenia_mundi', 1969, 'e4,Nf6,Nc3,d5,e5,Nfd7,d4,c5,Nf3,e6,Bb5,Nc6,O-O,cxd4,Nxd4,Ncxe5,Nf3,Nxf3+,Qxf3,a6,Bxd7+,Bxd7,Re1,Bc6,a4,d4,Ne4,Bd6,Qd3,Bc7,Nc5,O-O,b4,Qd5,Ne4,Rfd8,f3,Qh5,Ng3,Qh4,Bb2,Bxg3,hxg3,Qxg3,Bxd4,Rd5,c4,Rg5,Re2,Bxf3,Rf2,Bxg2', 'Qxg3,Rxg3,Rxg2,Rxg2+,Kxg2', 'https://lichess.org/training/0D8gu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0dAYd', 'Classical', 'orjin', 2028, 'rabinovich878', 2006, 'd4,d5,c4,e6,g3,c5,e3,cxd4,exd4,Bb4+,Nc3,Nf6,a3,Bxc3+,bxc3,Bd7,Bg2,Bc6,cxd5,Bxd5,Nf3,O-O,O-O,h6,Re1,Qc7,Bb2,Nbd7,Rc1,Qb6,Ba1,Rac8,Rb1,Qa5,a4,Nb6,Ne5,Bxg2,Kxg2,Qxa4,Qxa4,Nxa4,Rxb7,Nxc3,Bxc3,Rxc3,Rxa7,Nd5,Rb1,Rc7,Rbb7,Rfc8,h4,f5,Ng6,Kf7,Ne5+,Kf6,f4,Rc2+,Kh3', 'Nxf4+,gxf4,R8c3+,Nf3,Rxf3#', 'https://lichess.org/training/0dAYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Deuc', 'Rapid', 'jasamargaproperti', 2040, 'IFedoros', 1977, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,Nf3,Nxe4,Be2,d5,O-O,Be6,Re1,g6,d4,Bg7,c3,O-O,Nbd2,Nxd2,Bxd2,c5,Bg5,Qc7,Qd2,c4,Bh6,Nc6,Bxg7,Kxg7,Bf1,Bf5,Nh4,Bg4,Qg5,Be6,Re3,Qe7', 'Nf5+,Bxf5,Rxe7', 'https://lichess.org/training/0Deuc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0dgFN', 'Rapid', 'EKA7777', 1609, 'Eugene6691', 1704, 'e4,e6,Nf3,c5,d4,Nc6,Be3,Qb6,b3,cxd4,Nxd4,Bc5,Nxc6,Bxe3,fxe3,Qxe3+,Qe2,Qxe2+,Bxe2,bxc6,O-O,Nf6,e5,Nd5,c4,Nb6,Nc3,O-O,a4,Bb7,a5,Nc8,a6,Bxa6,Rxa6,Ne7,Ne4,Ng6,Ra5,Rfb8,Rb1,Rb6,g3,Rab8,Rxa7,Nxe5,c5,Rb4,Nd6,h6,Nc4', 'Nxc4,Bxc4,Rxc4', 'https://lichess.org/training/0dgFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0DgqP', 'Rapid', 'Jupp3', 1661, 'HerMantoGering', 1646, 'd4,Nf6,Bf4,d5,e3,c5,Nd2,a6,c3,c4,b3,b5,a4,Bb7,axb5,axb5,Rxa8,Bxa8,bxc4,dxc4,Bxb8,Qxb8,Ngf3,e6,Be2,Bd6,e4,Bxe4,Nxe4,Nxe4,Qb1,Nxc3,Qb2,Nxe2,Kxe2,O-O,Rb1,b4,g3,Qb5,Ke1,b3,Qe2,Bb4+,Kf1,Qf5,Qd1,Qh3+,Kg1,h6,Ne5,Qf5,Qc1,Rc8,Rxb3,cxb3,Qxc8+,Bf8,Qc3,Qb1+,Kg2,b2,Nd3,e5,dxe5,Qa2,Qxb2', 'Qd5+,Kg1,Qxd3', 'https://lichess.org/training/0DgqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0DgYW', 'Rapid', 'gas_beracun', 1804, 'shvm', 1840, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,exd4,Nxd4,Nf6,Nf5,O-O,O-O,d6,Re1,Be6,Bd3,Re8,g4,Bxf5,exf5,Nd5,Bc4,Nb6,Bb3,Bg5', 'Rxe8+,Qxe8,Bxg5', 'https://lichess.org/training/0DgYW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0DHdu', 'Blitz', 'zorrorural', 1989, 'mikule', 1958, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,d3,Nf6,Nc3,h6,Nd5,O-O,c3,Nxd5,Bxd5,Be6,Bxe6,fxe6,Qe2,Qf6,Be3,Bxe3,Qxe3,d5,h3,d4,Qe2,Rfd8,Rac1,Rac8,Rc2,a5,Rfc1,Ra8,cxd4,exd4,Rc5,e5,Qc2,a4,Qc4+,Kh8,Qb5,Ra7,Kh1,Re8,a3,Qd6,Rd5,Qf6,Rcc5,Ra5,Qxb7,Rxc5,Rxc5,Rb8,Qxc6,Qxc6,Rxc6,Rxb2,Nxe5,Rxf2,Rxc7,Ra2,Rc8+,Kh7,Rd8,Rxa3,Rxd4,Ra1+,Kh2,a3,Nc4,a2,Nd2', 'Rh1+,Kxh1,a1=Q+,Kh2,Qxd4', 'https://lichess.org/training/0DHdu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0dIVk', 'Rapid', 'lokeshvarmaa', 1883, 'Amanzhanidza', 1802, 'd4,Nf6,Nf3,d5,Bf4,g6,e3,Bg7,c4,O-O,Nbd2,c6,Be2,Bg4,h3,Bxf3,Nxf3,Nbd7,Qb3,b6,Rc1,e6,O-O,Ne4,Bd3,c5,Bxe4,dxe4,Nd2,cxd4,Nxe4,dxe3,Bxe3,Qc7,Rfd1,Ne5,Bf4,Qc6,f3,Rac8,Rd6,Qc7,Qb5,Nd3,Rxd3,Qxf4,Rcd1,Qc7,b3,Qc6,Qxc6,Rxc6,Rd7,a5,R1d6,Rfc8,Rd8+,Rxd8,Rxd8+,Bf8,Nf6+,Kg7,Ne8+,Kh6,Nf6,Be7', 'Ng8+,Kg7,Nxe7', 'https://lichess.org/training/0dIVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0DjPh', 'Rapid', 'manara', 1714, 'guest32', 1749, 'd4,g6,e4,Bg7,c3,d5,e5,f6,f4,Bf5,b4,b5,Bd3,Bxd3,Qxd3,c6,Nf3,Nd7,O-O,e6,Re1,Qe7,Nbd2,Nh6,h3,O-O,Nb3,a6,Na5,Rac8,Bd2,fxe5,fxe5,Nf5,Kh2,Nh4,Rf1,Rf5,g3,Nxf3+,Rxf3,Rcf8,Rxf5,Rxf5,Nxc6,Qf7,Bf4,g5,Be3,Rf3,Kg2,Bh6,Qe2,g4,Bxh6,gxh3+,Kxh3', 'Qh5+,Kg2,Rxg3+,Kxg3,Qxe2', 'https://lichess.org/training/0DjPh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0DLEw', 'Rapid', 'ebolavirus', 1796, 'JonWay', 1649, 'd4,c6,e4,d5,exd5,cxd5,Nc3,e6,Nf3,a6,Be2,b5,O-O,Bb7,a3,Nd7,Bd2,Ngf6,Re1,Bd6,Bg5,h6,Bxf6,Nxf6,Bd3,Rc8,Ne5,O-O,Nf3,Bb8,Rc1,Qd6,g3,b4,axb4,Qxb4,Rb1,Ba7,Ne2,Qd6,c3,Ne4,Bxe4,dxe4,Nd2,Qc6,d5,Qxd5,Nf4,Qc5,Nxe4,Bxe4,Rxe4,Qxf2+,Kh1,Rfd8,Qe2,Rd2,Qxf2,Rxf2,Re2,Rxe2,Nxe2,Rd8,Kg2,e5,Kf3,f6,b4,Kf7,c4,Ke6,c5,f5,Ra1,e4+,Kf2,Ra8,Rxa6+,Kd5,Nf4+,Ke5,Re6+,Kd4,Ra6,Kc4,Ne6,Bxc5+,Nxc5,Rxa6,Nxa6,Kb5,Nc7+,Kxb4,Ne6,g6,Ke3,Kc4,Nf4,g5,Ne6,Kd5,Ng7,Ke5,Ne8,f4+,gxf4+,gxf4+,Kf2,Kd4,Nd6,e3+,Ke2,Ke5,Nc4+,Ke4,Nd6+,Ke5,Nf7+,Ke4,Nxh6,f3+,Kf1,e2+,Kf2', 'Kd3,Ng4,Kd2,Kxf3,e1=Q', 'https://lichess.org/training/0DLEw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0dMiw', 'Blitz', 'Nakamura_2704', 1947, 'Elamin18', 1802, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,bxc6,Nxe5,Qe7,d4,Bd6,O-O,Bxe5,dxe5,Qxe5,Re1,Nf6,f4,Qc5+,Be3,Qb5,Nc3,Qb7,b3,O-O,Bd4,Ne8,Bb6,Qxb6+,Kh1,Bb7,Qxd7,Nf6,Qh3,c5,e5,Nd5,Nxd5,Bxd5,f5,c4,bxc4,Bxc4,Qh4,Ba6,f6,gxf6,Rab1,Qc6,Re3,Bb7,Rxb7,Qxb7', 'Rg3+,Kh8,Qxf6#', 'https://lichess.org/training/0dMiw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0DMYN', 'Rapid', 'moibaptiste', 1891, 'Xosee', 1891, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bg5,Be7,Bd3,O-O,O-O,Bg4,h3,Bh5,c3,Re8,Re1,Ne4,Bxe7,Qxe7,Nbd2,Bg6,Ne5,Nd7,Nxg6,fxg6,Nxe4,dxe4,Rxe4,Qd6,Qb3+,Kh8,Rxe8+,Rxe8,Qc2,Nf6,Qd2,Qe6,Qf4,Nd5,Qg3,Qb6,Rb1,c6,Bc4,Rd8,Bb3,a5,Bxd5,Rxd5,Qe3,Rd8,Qe7,h5,b3,a4,Qf7,axb3,Rxb3,Qa6,Rxb7,Rg8,Ra7,Qd3,Qf3', 'Qb1+,Kh2,Qb8+,Qg3,Qxa7', 'https://lichess.org/training/0DMYN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Dqhz', 'Blitz', 'eliaselvis99', 1648, 'mobinho', 1626, 'e4,e5,Nc3,Nf6,Bc4,Bc5,Nf3,d6,d3,O-O,h3,h6,O-O,a6,a3,b5,Ba2,c6,Nh4,a5,Ng6,Re8,Qf3,d5,exd5,cxd5,Nxd5,fxg6,Nxf6+,Kh8,Nxe8,Qxe8,Qxa8,Nc6,Bd2,Qd7,Rfe1,Kh7,Kh1,Bxf2,Re2,Bd4,Bc3,Bb7,Qf8,Ne7,Bxd4,exd4,Rxe7', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/0Dqhz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0DtJk', 'Rapid', 'krnov', 1901, 'alja7idh', 1899, 'd4,e6,c4,Nf6,Nc3,Be7,e4,O-O,Bd3,d6,Nge2,Nbd7,O-O,c5,d5,e5,f4,exf4,Bxf4,Nh5,Be3,Ne5,Nf4,Bg4,Qd2,Nf6,h3,Bc8,Be2,a6,b3,Qa5,Nd3,Nfd7,Nxe5,Nxe5,Qc2,f5,exf5,Bxf5,Rxf5,Rxf5,Bd2,Rf7,Bh5,g6,Be2,Kg7,Ne4,Qc7,Bc3,Raf8,Rd1,Bf6,Bxe5,Bxe5,Ng5,Rf6,Ne6+,Rxe6,dxe6,Bd4+,Kh1,Rf2,Qe4,Qe7,Rxd4,cxd4,Qxd4+,Qf6,Qe3,Rf5,e7,Re5', 'e8=Q,Rxe3,Qxe3', 'https://lichess.org/training/0DtJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0DUCO', 'Rapid', 'Heliosis', 1960, 'ltl', 1967, 'e4,e6,d4,c5,d5,d6,Nc3,a6,f3,Ne7,Nge2,Ng6,h4,h6,h5,Ne5,Nf4,Be7,g3,O-O,Bg2,b5,O-O,Bg5,Nce2,Bb7,Be3,exd5,exd5,Nc4,Bc1,Nd7,b3,Ncb6,Qd3,Qf6,Be3,Ne5,Qd2,Rae8,Rad1,Ned7,Qd3,Re5,c4,bxc4,bxc4,Rfe8,Bf2,a5,Rb1,Ba6,Rfc1,Bxf4,Nxf4,R5e7,Bf1,Ne5,Qb3,Rb7,Qe3,Ree7,Qa3,Nexc4,Bxc4,Nxc4,Qa4,Rxb1,Rxb1,Nd2', 'Rb8+,Kh7,Qc2+', 'https://lichess.org/training/0DUCO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0DujF', 'Classical', 'AngelGG', 1774, 'Thiru_R', 1752, 'c4,c5,Nc3,Nc6,Nf3,Nf6,g3,e5,Bg2,Be7,O-O,O-O,d3,d6,h3,Nd7,Nd5,Nb6,e4,Nd4,Nxd4,cxd4,a4,Nxd5,exd5,a5,f4,f6,Bd2,Bd7,b4,b6,fxe5,fxe5,Qe2,Qc8,Rxf8+,Bxf8,Kh2,Be7,b5,Qc7,Be4,Rf8,Rf1,Qc8,Rxf8+,Bxf8,Qh5,g6,Qh4,Qe8,Bg5,Qf7,Kg2,Bf5,Bd8,Kg7,Bxb6', 'Be7,Qg4,Bxg4', 'https://lichess.org/training/0DujF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0dztw', 'Blitz', 'neilyoung1977', 1861, 'leon-buzios', 1879, 'e4,e6,Nf3,d5,Nc3,Nf6,exd5,exd5,d4,c6,h3,Bd6,Bd3,h6,O-O,O-O,Ne2,Na6,Bf4,Nb4,c3,Nxd3,Qxd3,a5,Be5,b5,Bxd6,Qxd6,Ne5,Ne4,f3,Ng5,h4,Ne6,g4,Ba6,Qd2,b4,Rfe1,c5,Ng3,cxd4,cxd4,Rfc8,Nf5,Qb6,Ne7+,Kh8,Nxf7+,Kh7,Nxc8,Nxd4,Qf2,Nxf3+,Kg2,Nxe1+,Rxe1,Qxf2+,Kxf2,Rxc8,Re6,Rc2+,Kf3,d4,g5,Bb7+,Kg3,hxg5', 'Nxg5+,Kh8,Re8#', 'https://lichess.org/training/0dztw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0E0Eh', 'Rapid', 'dzamb15', 1786, 'marceus', 1655, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Bb4,Qa4+,Nc6,Bd2,O-O,cxd5,Bxc3,bxc3,Nxd5,e4,Nb6,Qc2,Re8,e5,Nd5,Bd3,Nce7,Bxh7+,Kh8,Be4,b6,O-O,c5,c4,Nc7,Bxa8,Nxa8,Bc3,Ba6,Bb2,Nc7,Rfd1,Qa8,Ng5,Nf5,Rd3,Kg8,Rh3,cxd4,g4,d3,Qxd3,Rd8,Qc3,Qc6,gxf5,Bxc4,f6,Nb5,Qg3,Nd4,Re1,Ne2+,Rxe2', 'Rd1+,Re1,Rxe1#', 'https://lichess.org/training/0E0Eh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0e3Nz', 'Rapid', 'maksvv100', 1770, 'M_Hariom', 1772, 'c4,c5,g3,d6,Bg2,Bd7,e3,Bc6,Nf3,Nf6,O-O,e5,Nc3,Be7,d4,cxd4,exd4,exd4,Nxd4,Bxg2,Kxg2,O-O,Qf3,Qd7,Re1,Re8,Bf4,Na6,Rad1,Rad8,Ndb5,Qc6,Qxc6,bxc6,Nxd6', 'Bxd6,Rxe8+,Nxe8', 'https://lichess.org/training/0e3Nz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0e3SF', 'Rapid', 'vighnaharta', 2299, 'heretomakeit', 2392, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Be3,Bf5,Na3,cxd4,cxd4,e6,Nc2,Rc8,Bd3,Bxd3,Qxd3,Qb6,Rb1,Nb4,Nxb4,Bxb4+,Kf1,Ne7', 'a3,Nf5,axb4', 'https://lichess.org/training/0e3SF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0e7Tp', 'Blitz', 'NM gajardo', 2433, 'supertolchok', 2410, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,h6,Bh4,Qb6,Bxf6,gxf6,Nb3,Qe3+,Be2,Qxf4,Qd3,Nc6,g3,Qg5,h4,Qe5,O-O-O,Bd7,Kb1,Rc8,g4,Nb4,Qe3,Be7,a3,Nc6,Qb6,Rb8,Nc1,Qc5,Qb3,Ne5,Nd3,Nxd3,cxd3,b5,d4,Qb6,d5,e5,Rdf1,a5,Na2,Qd4,Qd3,Qxd3+,Bxd3,Bxg4,Nc3,b4,axb4,axb4,Ne2,Bxe2,Bxe2,O-O,h5,Kh8,Rhg1,Rg8,Rxg8+,Rxg8,Kc2,Rg2,Kd3,f5,Rxf5,Kg7,Rf3,Bg5,b3,Bf4,Rf1,Kf6,Bf3,Rb2,Kc4,Bd2,Bd1+,Ke7,Rf2,f6,Kb5,Kd7,Rg2,Ke7,Rf2,Bc3,Rxb2,Bxb2,Kxb4,Kd7,Bg4+,Kc7,Bf5,Kb6,Kc4,Bd4,Kb4,Be3,Ka4,Bc5,b4,Bd4,Kb3,Kb5,Bd7+,Kb6,Ba4,Be3,Kc4,Bf4,Be8,Bg5,Bf7,Bf4,Be6,Be3,Bf5,Bf4,Bg6,Bg5,Bf5,Bc1,Bg6,Ba3,Bf5,Kc7,Bg6,Kb6,Bf5,Bb2,Bg6,Bd4,Bf5,Be3,Bg6,Bd2,Bf5,Bxb4,Bg6,Bd2,Bf5,Bf4,Bg6,Ka5,Bf5,Ka4,Bg6,Ka3,Bf5,Kb2,Bg6,Kc2,Kb5,f5', 'exf5,Kc3,f6,Bg5,f7', 'https://lichess.org/training/0e7Tp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0EAGg', 'Blitz', 'muratchess2010', 1813, 'CM Kingscrusher-YouTube', 2392, 'Nf3,Nc6,d4,e6,c4,d5,cxd5,exd5,Bf4,Nf6,e3,Bd6,Bg3,O-O,Bd3,Re8,O-O,Ne4,Bxd6,cxd6,Nbd2,f5,Qb3,Be6,Qxb7,Rc8,Rac1,Bd7,Bb5,Rb8,Qa6', 'Nb4,Bxd7,Nxa6', 'https://lichess.org/training/0EAGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ECnF', 'Rapid', 'sreeragp1234', 1743, 'Adwaith_32', 2106, 'd4,Nf6,Nf3,e6,e3,b6,Bd3,Bb7,Nbd2,d6,O-O,Be7,Re1,O-O,e4,Nbd7,e5,dxe5,dxe5,Nd5,Be4,Nc5,c4,Nxe4,Nxe4,Nb4,Bg5,Bxe4,Bxe7,Bxf3,Qxf3', 'Qxe7', 'https://lichess.org/training/0ECnF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ecsr', 'Rapid', 'LevS', 2074, 'jocielgamexadrez', 1937, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,g6,Bc4,Bg7,O-O,d6,Re1,Bg4,Bf4,Nf6,Qe2,O-O,Rad1,Qc7,h3,Bxf3,Qxf3,Nh5,Nd5,Qd8,Bh2,Ne5,Qb3,Nxc4,Qxc4,Rc8', 'Qxc8,Qxc8,Nxe7+,Kh8,Nxc8', 'https://lichess.org/training/0ecsr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ecYZ', 'Classical', 'nandopb', 1748, 'wonderkid1', 1811, 'e4,e5,c3,Nf6,d3,d5,Nf3,dxe4,Nxe5,exd3,Bxd3,Bd6,Nf3,Qe7+,Be3,O-O,h3,Re8,Nbd2,Bf4,Nf1,Nc6,Qd2,Bxe3,Nxe3,Be6,O-O,Rad8,Qc2,Bd5,Ng5,Be4,Nxe4,Nxe4,Rae1,Nf6,Nf5,Qd7,Rd1,g6,Bc4', 'Qxf5,Qxf5,gxf5', 'https://lichess.org/training/0ecYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ef5B', 'Rapid', 're-am', 1971, 'Ivorybags', 1848, 'd4,e6,c4,Nf6,Nc3,Bb4,Nf3,Bxc3+,bxc3,O-O,e3,h6,c5,Nc6,Bd3,d5,cxd6,cxd6,a4,d5,O-O,Bd7,Ba3,Re8,Qe2,Ne4,Qc2,f5,Rfb1,b6,h3,Ne7,Ne5,Nc6,Nxd7,Qxd7,c4,Ne7,cxd5,exd5,f3,Rac8,Qe2,Nc3,Qb2,Nxb1,Rxb1,Qxa4', 'Bb5,Qa5,Bxe8', 'https://lichess.org/training/0ef5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0efkg', 'Rapid', 'profeblanco', 1649, 'yuvia1998', 1683, 'e4,e5,f4,exf4,Nf3,Nc6,d4,d5,e5,g5,h3,f6,Bb5,Bg7,O-O,Bd7,Bxc6,Bxc6,e6,Qe7,Re1,O-O-O,Nc3,Kb8,a4,Re8,Nb5,Bxb5,axb5,Qd6,b3,Rxe6,Rxe6,Qxe6,c4,Ne7,c5,Qd7,c6,bxc6,bxc6,Nxc6,Qd3,Kc8,Qa6+,Kd8,Ba3,f5,Bc5,Re8,Qb7,Re2', 'Qa8+,Qc8,Qxc6', 'https://lichess.org/training/0efkg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0EiJS', 'Blitz', 'HarSiman', 1772, 'Bocor1979', 2028, 'e4,Nf6,e5,Nd5,c4,Nb6,Nf3,d6,exd6,exd6,Be2,Bg4,O-O,Be7,d4,O-O,Nc3,Bf6,Be3,Nc6,d5,Ne5,Nxe5,Bxe2,Qxe2,Bxe5,f4,Bf6,Ne4,Re8,Nxf6+,Qxf6,b3,Re4,Qf3,Rae8,Bxb6,axb6,h3,h6,Qg3,Re3,Qf2,Re2,Qf3,R8e3,Qg4,Qd4,Kh1,Qc3,Qc8+,Kh7,Qf5+,Kg8,Qc8+,Re8,Qxc7,Qg3,Rg1,Rf2,Raf1,Rxa2,Qxd6,Ree2,Qd7,g6,Qg4,Qxb3,f5,g5,f6,Kh7,Qf5+,Kg8,Qc8+,Kh7,Qf8', 'Qxh3+,gxh3,Rh2#', 'https://lichess.org/training/0EiJS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0eIJw', 'Blitz', 'tomhar', 1699, 'Iffy-cucumber2', 1709, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Bb4,a3,Bxc3+,bxc3,Ne4,Qc2,c5,cxd5,Qxd5,e3,Nc6,c4,Qf5,Bd3,cxd4,Bxe4,Qa5+,Bd2,Qc7,Nxd4,Nxd4,exd4,f5,Bf3,O-O,O-O,Qf7,Rfe1,Rb8,d5,Kh8,d6,Bd7,c5,Rfc8,Rac1,h6,Qb2,Kh7,Re5,g5,g4,fxg4,Bxg4,Rf8,Be3,Bc6,Rxe6,h5,Be2,Rfe8,Rxe8,Rxe8,Bd3+,Kh6,Qd2,Qd5,Kf1', 'Qh1+,Ke2,Bf3#', 'https://lichess.org/training/0eIJw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0eKtd', 'Rapid', 'ERB', 1669, 'pawnsyscheme', 1755, 'd4,Nf6,g3,e5,Bg2,exd4,Qxd4,Nc6,Qd1,Bc5,Nf3,d5,O-O,Bg4,Bg5,Qd6,Bxf6,Qxf6,Qxd5,Bxf2+,Kxf2,Qxb2,Qe4+,Be6,Nbd2,Qb6+,e3,O-O,Nb3,Ne7,Ng5,Ng6,Nxe6,fxe6+,Kg1,e5,Kh1,Rf6,Qxb7,Rxf1+,Rxf1,Qxb7,Bxb7,Rb8,Bd5+,Kh8,h4,Ne7,e4,c6,Bc4,h6,g4,Ng6,h5,Nf4,Kg1,Nh3+,Kg2,Ng5,Bd3,Rb4,Nc5,Rb2,a4,Ra2,Rf8+,Kh7,Nd7,Ne6,Nxe5,Nf4+,Kf3,Ne6,Rc8,Rxa4,Rxc6,Nd4+,Kf4,Nxc6,Nxc6,g5+,Kf3,Kg7,Ne5,Kf6,Ng6,a5,e5+,Kf7,Bf5,Ra2,e6+,Ke8,Bd3,Ra3,e7', 'Rxd3+,cxd3,a4,Ke4,a3,Ne5,a2', 'https://lichess.org/training/0eKtd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0eoTI', 'Classical', 'PrinzAlbert', 1651, 'lublu_babus-gus', 1765, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bd3,Be7,Nf3,b6,O-O,Bb7,Re1,O-O,Bf4,Nbd7,h3,c5,dxc5,Nxc5,Nxc5,Bxc5,a3,a5,Qe2,Nd5,Bh2,Re8,Rad1,Qe7,Bb5,Red8,a4,Bd6,Bxd6,Qxd6,c4,Nf4,Qc2,Qc5,Re5,Rxd1+,Qxd1,Bxf3', 'Qxf3,Qf8,Qxf4', 'https://lichess.org/training/0eoTI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ETP2', 'Rapid', 'GlasgowKnights', 1840, 'Phelipi', 1851, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,d4,Nc6,Be3,exd4,Bd2,Ne5,Qb3,Nxe4,O-O,Nxd2,Nxd2,Be7,Nf3,Nxc4,Qxc4,O-O,Qxd4,Bf6,Qg4,Bxb2,Rab1,Bf6,Rxb7,Qe7,Re1,Be5,Nd4,f5,Nxf5,Qf6,Rxc7', 'Qxf5,Qxf5,Rxf5', 'https://lichess.org/training/0ETP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0eX2g', 'Rapid', 'allgo', 1668, 'awigg', 1633, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Nd7,Qe2+,Ne7,Ne5,a6,Bxd7+,Bxd7,Nxd7,Qxd7,d3,g6,Nc3,d4,Ne4,Qc6,O-O,Bg7,Bg5,f6,Bf4,O-O,Bd6,f5,Bxe7,Rfe8,Nd6,Qxd6,Bxd6,Rxe2,Rfe1,Rxc2,Rab1,Rc8,g3,Rc6,Bf4,Kf7,Kf1,h5,h4,Rb6,Bc1,a5,Re2,Rxe2,Kxe2,a4,b3,axb3,axb3,Ke6,Bf4,Be5,Kf3,Bxf4,Kxf4,Kf6,Rb2,Ke6,Kg5,Kd7,Rb1,Kc6,Kxg6,Kb5+,Kxf5,Kb4,f4,Kc3,Ke5,Rxb3,Rf1,Kxd3,Rf3+,Kc4,Rf1,d3,f5,d2,f6,Rd3,Rd1,Rd8,Ke6,Kc3,Ke7,Rd3,f7,Kc2', 'Rxd2+,Kxd2,f8=Q', 'https://lichess.org/training/0eX2g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Ex7l', 'Classical', 'Tefivalohery2020', 1740, 'lovka4', 1709, 'e4,Nc6,d4,d5,e5,e6,Nf3,Nge7,Bb5,g6,Be3,Bg7,g4,O-O,h4,a6,Bd3,b5,h5,Nb4,hxg6,fxg6,Qd2,Nec6,Bh6,Bxh6,Qxh6,Rxf3,Qxh7+,Kf8,Bxg6,Nxc2+,Bxc2,Qg5,Bg6', 'Qc1+,Ke2,Nxd4#', 'https://lichess.org/training/0Ex7l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0eYwa', 'Rapid', 'vader66', 1914, 'Baker123', 2011, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,Nf3,Nxe4,Qe2,d5,d3,Nf6,Nc3,Nc6,Bg5,Be6,d4,O-O-O,Qe3,h6,Bh4,g5,Bg3,Qb4,O-O-O,Bg7,Ne5,Nxe5,Bxe5,Ng4,Qe1,Nxe5,dxe5,Qa5,Bd3,d4,Nb5,Qxa2,Na3,Qa1+,Nb1,Ba2,c3,dxc3,Qxc3,Rxd3,Qxd3,Bxe5', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/0eYwa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0f0vR', 'Rapid', 'niespodziany', 1844, 'ARJUN99', 1777, 'e4,Nc6,d4,d5,e5,Bf5,a3,e6,Bb5,a6,Ba4,b5,Bb3,Qh4,Ne2,Qg4,O-O,Be4', 'f3,Bxf3,Rxf3', 'https://lichess.org/training/0f0vR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0f2Te', 'Blitz', 'IM alberto99', 2510, 'Superchoc', 2498, 'd4,e6,c4,Nf6,Nf3,Bb4+,Bd2,Qe7,g3,Nc6,e3,O-O,Bg2,Ne4,O-O,Nxd2,Nbxd2,d5,a3,Bxd2,Nxd2,Rd8,Qc2,dxc4,Nxc4,Bd7,b4,a6,Rfc1,Rac8,Rab1,e5,Bxc6,Bxc6,Nxe5,Bd5,e4,Be6,Qc5,Qf6,Re1,Bh3,Qc3,b6,Qf3,Rxd4,Qxf6,gxf6,Nc6,Rd7,Rbd1,Kf8,f3,Rd6,Rxd6,cxd6,b5,axb5,Nd4,Rc3,Kf2,Bd7,Re3,Rc4,Rd3,b4,axb4,Rxb4,Ke3,Ke7,Rb3,Rxb3+,Nxb3,Kd8,Kd4,Kc7,Nc1,Kc6,Nd3,Kb5,Nf4,Ka4,Nd5,Ka5,Nxf6,Be6,f4,b5,f5,Ba2,Nd5', 'Bxd5,Kxd5,b4,Kxd6,b3,e5,b2', 'https://lichess.org/training/0f2Te');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0f4W1', 'Classical', 'Alexis1973', 1824, 'Flashary', 1832, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Be6,O-O,Be7,Nc3,c5,Qxg7,Bf6,Qxh8,Bxh8,Bxe6,fxe6,Be3,Qd7,Rad1,Qc6,Bg5,h6,Bh4,Bf6,Bg3,O-O-O,a4,Bxc3,bxc3,Qxe4,Rfe1,Qxc2,Rc1,Qxa4,Rxe6,Qd7,Rg6,Re8,Rxd6,Qe7,h3,Nf6,f3,Qe3+,Kh2,Qxc1,Rxf6,Qxc3,Rf7,a5,Rc7+,Kb8', 'Rxc5+,Ka7,Rxc3', 'https://lichess.org/training/0f4W1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0f9gF', 'Classical', 'bird67', 1741, 'paimei072084', 1704, 'd4,d5,Nf3,Nf6,Bg5,e6,e3,c5,c3,Nc6,Nbd2,cxd4,exd4,Be7,Bd3,h6,Bxf6,Bxf6,O-O,O-O,Re1,Re8,a4,e5,dxe5,Nxe5,Bc2,Bg4,h3,Nxf3+,Nxf3,Rxe1+,Qxe1,Bxf3,gxf3,Bh4,Qe5,Qb6,Qe2,Qe6,Qxe6,fxe6,Re1,Kf7,f4,Rf8,Kg2,Ke7,f5,Kd6,Rxe6+,Kc5,Re5,Bf6,Re2,Bh4,Bd3,a6,b4+,Kd6,f4,Rc8,Rc2,Bf6,c4,dxc4,Rxc4,Re8,Kf3,Re1,b5,Rh1,Kg4,h5+,Kg3,h4+,Kg2,Rd1,Be4,axb5,axb5,b6,Rc6+,Kd7,Rxb6,Rd2+,Kf3,Rh2,Rb7+,Kd6,Kg4,Re2,Bf3,Re1,b6,Rg1+,Kh5,Rg3,Rf7', 'Rxf3,b7,Rb3', 'https://lichess.org/training/0f9gF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0f9O8', 'Rapid', 'Yakubh', 1857, 'NaserHo', 1858, 'f4,d5,e4,dxe4,d3,exd3,Bxd3,b6,Nf3,Bb7,O-O,e6,Be3,Bd6,Nc3,Nc6,Ng5,h6', 'Qh5,Qe7,Nxf7,Nf6,Nxd6+', 'https://lichess.org/training/0f9O8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0f9QF', 'Rapid', 'Spassky_CXC', 2116, 'GuardianRM', 2046, 'f4,d5,Nf3,g6,e3,Bg7,d4,Nf6,c4,c6,Nc3,a6,Be2,dxc4,Bxc4,b5,Bb3,e6,O-O,a5,a4,b4,Ne2,Ba6,Re1,Ne4,Bc2,Bxe2,Qxe2,Qd5,Nd2,Nxd2,Bxd2,c5,Qb5+,Nd7,Bd1,cxd4,Qxd5,exd5,exd4+,Kd8,Be3,Rc8,Bf3,Nb6,Rac1,Rxc1,Rxc1,Nc4,Bf2,Nxb2,Rc5,Nd3,Rxa5,Nxf2,Rxd5+,Kc7,Kxf2,Rb8,Rc5+,Kd6,Rc6+,Kd7,d5,b3,Be4,f5,Bb1,Ra8,Rc4,Kd6,Rb4,b2,g4,Kxd5,gxf5,Bd4+,Ke2,gxf5,Kd1,Kc5,Rb5+,Kc4,Bxf5,Rxa4,Rb7,Ra1+,Kc2,Rc1+,Kd2,Rh1,Rc7+,Kb5,Rb7+,Kc6', 'Be4+,Kc5,Bxh1', 'https://lichess.org/training/0f9QF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0FaFa', 'Rapid', 'SuicideByPawn', 1728, 'Nasselaine', 1648, 'c4,e5,Nc3,f5,e3,Nf6,g3,Nc6,Bg2,d6,Nge2,Be6,b3,a6,Bb2,Qd7,d4,Ne7,d5,Bf7,e4,O-O-O,a4,g5,b4,h5,b5,a5,b6,cxb6,Nb5,Nxe4,Bxe4,fxe4,Rc1,Bh6,Rc2,g4,Ba3,Nf5,Nec3,Bg6,Nxd6+,Nxd6,Nb5,Nxb5,cxb5+,Kb8,Qe2,Rhf8,O-O,Qxd5,Rfc1,Qb3,Rc3,Rd1+', 'Qxd1,Qxd1+,Rxd1', 'https://lichess.org/training/0FaFa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0FaX9', 'Rapid', 'mtratnik', 1676, 'jhitch99', 1670, 'e4,c5,Nf3,d6,Bc4,h6,c3,Nc6,Qb3,e6,a4,a6,a5,Nf6,d3,Nxa5,Qa4+,Nc6,O-O,b5', 'Bxb5,axb5,Qxa8', 'https://lichess.org/training/0FaX9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0fB4Q', 'Rapid', 'axpx', 1758, 'JeroBuzo', 1734, 'e4,c5,c3,d5,exd5,Qxd5,Nf3,Nc6,Na3,Nf6,Bc4,Qe6+,Bxe6,Bxe6,Nb5,O-O-O,Ng5,Bd5,O-O,h6,Nf3,Bc4,Na3,Bxf1,Qxf1,e5,Qc4,e4,Nh4,Rd5,Nc2,Rh5,Qxf7,Rxh4,Qe6+,Kc7,Ne3,Nd8,Nd5+,Nxd5,Qxd5,Bd6,g3,Rg4,a4,Rg5,Qxe4,Re5,Qg4,g5,d4,cxd4,cxd4,Re1+,Kg2,Nc6,d5,Ne5,Qd4', 'Rg1+,Kxg1,Nf3+,Kg2,Nxd4', 'https://lichess.org/training/0fB4Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0FfBg', 'Rapid', 'Garry_Potter', 1875, 'Arturik2014', 1674, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Ng4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,d6,h3,Nh6,O-O,Nf5,exd6,Qxd6,Re1+,Nce7,Bxf7+,Kxf7,Ne5+,Kf8,Qh5,g6,Bh6+,Kg8,Qg4,Nxh6,Qf4,Nhf5,g4,Nd5,Qf3,Nh6,Nc4,Qd8,Re5,Ne7,Rae1,Nc6', 'Re8+,Kg7,Rxd8', 'https://lichess.org/training/0FfBg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ffEa', 'Rapid', 'WWWOWA', 1715, 'ilhara', 1636, 'd4,d5,Qd3,a6,Nc3,b5,Nf3,Nf6,e4,dxe4,Nxe4,Bf5', 'Nxf6+,exf6,Qxf5', 'https://lichess.org/training/0ffEa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0FGEC', 'Classical', 'prasad19840', 1731, 'Andylara', 1959, 'd4,Nf6,Nf3,g6,Bg5,Bg7,c3,d6,Qb3,O-O,e3,Ne4,Bh4,Nd7,Bd3,Nef6,Nbd2,d5,Qb4,Re8,O-O,e5,Nxe5,Nxe5,dxe5,Rxe5,Qd4,Qd6,Bg3,Ng4,h3,c5,Bxe5,Nxe5,Qf4,g5,Bxh7+,Kxh7,Qxg5,Bh6,Qh5,Qf6,f4,Nd3,g4,Bf5,gxf5,Rg8+,Kh2,Re8,Rg1,Rxe3,Rg2', 'Nxf4,Qg4,Nxg2', 'https://lichess.org/training/0FGEC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0FgOs', 'Rapid', 'Blahunderfull', 1805, 'fil_filipe_freitas', 1793, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,Qg6,O-O,Nge7,Re1,Ne5,Bb3,d6,f4,Ng4,Bxf7+,Kxf7,f5,Qh5,h3,Nf6,Qb3+,d5,e5,Ne4,e6+,Kf6,Rf1,b6,Qc2,Ba6,Rf3,Ng5,Rf4,Bd6,Nf3,Bxf4', 'Bd4+,Be5,Bxe5#', 'https://lichess.org/training/0FgOs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0FGp1', 'Blitz', 'harunwijaya', 1828, 'antoniusblockriviera', 1823, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nf3,Qb6,Qc2,g6,Bd3,c4,Be2,Bf5,Qd2,Ne4,Qc1,h5,Ne5,Nxe5,Bxe5,f6,Bf4,g5,Bg3,h4,f3,Nxc3,Nxc3,hxg3,Nxd5,Qc6,Bxc4,Rxh2,Rxh2,gxh2,Kf2,b5', 'Bxb5,Qxb5,Nc7+,Kf7,Nxb5', 'https://lichess.org/training/0FGp1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0fGt3', 'Rapid', 'maxiargentino', 1631, 'nasser55123', 1883, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,Ng4,Bxf7+,Kxf7,Ng5+,Kg8,Qxg4,Bb4+,Bd2,Bxd2+,Nxd2,d6,Qf4,Qe7,O-O,dxe5,Qg3,Bf5,Nge4,h5,Qb3+,Kh7,a3,b6,Rfe1,Be6,Qd3,Kg8,Nf3,Bf5,c3,Rd8,Qc4+,Qf7,Qxc6,Bxe4,Rxe4,Rd6,Qa8+,Qf8,Qxa7,Rf6,Qb7,Rxf3,gxf3,Qxf3,Qd5+,Kh7,Qxe5,Rf8,Rf1,Rf5,Qxd4', 'Rg5+,Rg4,Rxg4+', 'https://lichess.org/training/0fGt3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0FlSr', 'Classical', 'NKVDSHNIK', 1683, 'Eckvilli', 1686, 'e4,e5,Bc4,Nf6,d3,h6,f4,d6,Nf3,Bg4,O-O,Bxf3,Rxf3,Nc6,c3,Qd7,Be3,Na5,Nd2,Ng4,f5,Be7,b4,Nxc4,Nxc4,Bg5,Rg3,Nxe3,Nxe3,Qc6,Nd5,Qd7,Qg4,c6,h4,cxd5,hxg5,hxg5,Qxg5,dxe4,Qxg7,O-O-O,dxe4,Qc7,a4', 'Qb6+,Kf1,Rh1+,Ke2,Rxa1', 'https://lichess.org/training/0FlSr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0fNE2', 'Blitz', 'LeHulk', 2154, 'WFM wfAnasta', 2138, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,f3,d5,e3,b6,cxd5,exd5,Bd3,c5,Ne2,Re8,O-O,Ba6,Ng3,Bxd3,Qxd3,Nbd7,Ra2,Rc8,Re2,Qc7,e4,cxd4,cxd4,dxe4,fxe4,Qc3,Qd1,h6,Bb2,Qc4,d5,Ng4,Nf5,Nge5,Nd6', 'Qc5+,Kh1,Qxd6', 'https://lichess.org/training/0fNE2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0FNgQ', 'Rapid', 'Toquet', 1886, 'arnold123', 1828, 'd4,d5,e3,Nd7,f4,e6,Nf3,Be7,Bd3,Bh4+,g3,Be7,Nbd2,f5,Ne5,Ngf6,c3,O-O,Ndf3,c5,Ng5,Nb6,Bb5,cxd4,exd4,a6,Ba4,Ne4,Qh5,Nxg5,fxg5,Nxa4,g6,hxg6,Nxg6,Rf6', 'Qh8+,Kf7,Ne5#', 'https://lichess.org/training/0FNgQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0FNHZ', 'Rapid', 'Adrianoperek', 1840, 'Vadimych', 1991, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bb5,Bd7,Bg5,e6,O-O,a6,Ba4,h6,Bh4,b5,Bb3,b4,Bxf6,gxf6,Nce2,Qb6,a3,bxa3,Rxa3,d5,Ra1,dxe4,Ba4,Rd8,b3,Nxd4,Nxd4,Bxa4,Rxa4,e5,Qa1,Rxd4,Rxa6,Qc7,Ra8+,Rd8,Qa4+,Qd7,Rxd8+', 'Kxd8,Qa8+,Ke7', 'https://lichess.org/training/0FNHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0fOjL', 'Blitz', 'MaMiLenMG', 2424, 'Evidently', 2098, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,d5,Bb5,Ne4,cxd4,Bb4+,Nbd2,O-O,h3,Bxd2+,Bxd2,Ne7,O-O,c6,Bd3,Ng6,Nh2,f6,exf6,Qxf6,Be3,Nh4,Ng4,Qg6,f3,h6,fxe4,h5,Rxf8+,Kxf8,exd5,Bxg4,hxg4,Qd6,gxh5,Re8,Qf1+,Kg8,Qf4,Qxd5,Qxh4,Rxe3,Bf1,Re4,Qg3,Qxd4+,Qf2,Qe5,Rd1,Rf4,Rd8+,Kf7,Qe2', 'Qc5+,Kh2,Rh4+,Kg3,Qg5+', 'https://lichess.org/training/0fOjL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0fOoN', 'Blitz', 'Rodripay', 1667, 'srajkovic', 1670, 'e4,e5,f4,d6,fxe5,dxe5,Nf3,Nc6,Bb5,Bd7,d4,Bb4+,c3,Ba5,Bxc6,Bxc6,d5,Bb5,Nxe5,f6,Nd3,Ne7,Nc5,Rb8,Na3,Qd6,Ne6,Bd7,Nxg7+,Kf7,Nf5,Nxf5,exf5,Bxf5,O-O,Bg6,Nc4,Qc5+,Ne3,c6,b4,Qxc3,Bd2,Qd4,bxa5,Rbe8,Rf3,Be4,Rg3,Rhg8,Rxg8,Kxg8,Qg4+,Kf7,Qd1,cxd5,Kh1,b6,Rc1,f5,Rc7+,Re7,Qh5+,Ke6,Rxe7+,Kxe7,Qxh7+,Kd6,Nxf5+,Bxf5,Qxf5', 'Qa1+,Bc1,Qxc1+,Qf1,Qxf1#', 'https://lichess.org/training/0fOoN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0FqPd', 'Rapid', 'Drzma', 1674, 'Wawawiwa', 1615, 'e4,e5,Nf3,Nf6,d3,Bc5,Bg5,h6,Bxf6,Qxf6,Nc3,d6,Nd5,Qd8,d4,c6,dxc5,cxd5,exd5,dxc5,Nxe5,Qd6,Qe2,O-O,Qh5,Re8,Qxf7+,Kh7,f4,Re7,Qf8', 'Rxe5+,fxe5,Qxf8', 'https://lichess.org/training/0FqPd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0fyn4', 'Classical', 'sonyeshwar0123', 1698, 'Almany2002', 1644, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,h6,h3,a6,a3,b5,Bd5,Bb7,Bxc6,Bxc6,Nxe5,Qe7,Nxc6,Qxe4+,Qe2,Qxe2+,Kxe2,dxc6,Re1,O-O-O,d4,Re8+,Kf1,Rxe1+,Kxe1,Bd6,Be3,Nf6,Nd2,Re8,Kf1,Ne4,Nxe4,Rxe4,a4,b4,cxb4,Bxb4,Rc1,Kd7,Ke2,Kd6,Kd3,Kd5,Rc4,c5,f3', 'Rxe3+,Kxe3,Kxc4', 'https://lichess.org/training/0fyn4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0fZNx', 'Rapid', 'Sambakati-MM', 2120, 'courage212', 1971, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Nc6,O-O,Bc5,e5,d5,Bb5,Ng4,Nxd4,Bd7,Bxc6,bxc6,Nxc6,Bxc6,Qxg4,Qe7,Qxg7,O-O-O,Bg5,Rhg8,Bxe7,Rxg7,Bxd8,Kxd8,Nd2,h5,c3,h4,h3,d4,cxd4', 'Rxg2+,Kh1,Rxf2+', 'https://lichess.org/training/0fZNx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0G5nP', 'Rapid', 'ElGordito123', 2416, 'Lenz2002', 2396, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qa5,Nxe4,Be6,Neg5,O-O-O,Nxe6,fxe6,Rxe6,Bd6,Bg5,Rde8,Qe1,Qxe1+,Raxe1,Kd7,Rxe8,Rxe8,Rxe8,Kxe8,Kf1,Kf7,Bd2,h6,Ke2,Ke6,Kd3,Kd5,Nxd4,Ne5+,Kc3,a5,a3,Nc4,Nf3,Bc5,Bf4,c6,b3,Nxa3,Bc7', 'Nb5+,Kd3,Nxc7', 'https://lichess.org/training/0G5nP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0G7i0', 'Rapid', 'DragonMan999', 1689, 'GASTON8SAMSON', 1687, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,Nc3,Bf5,d3,Bb4,Bd2,O-O,dxe4,Bxc3,Bxc3,Nxe4,Qd1,Nxc3,bxc3,Re8+,Be2,Qe7,Nd4,Bg4,f3,Bh5,c4,Qh4+,g3,Qh3,Qd2,c5,Nb5,Bxf3,O-O-O,Rxe2,Rde1,Rxe1+,Rxe1,Qc8,Qf4,Na6,Qxf3,Nb4,Kb2,a5,Nd6,Qc7,Ne8,Qd7,Qe4,a4,Qe5,a3+,Kb3', 'Qa4+,Kc3,Qxc2#', 'https://lichess.org/training/0G7i0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0GAUW', 'Blitz', 'IM gon_freecs123', 2625, 'SweetChinMusic_04', 2365, 'e4,d6,d4,Nf6,Nc3,g6,Bg5,Bg7,e5,Nfd7,Nd5,f6,exf6,exf6,Be3,O-O,Nf3,c6,Nf4,Nb6,Bd3,f5,h4,d5,Qd2,Re8,O-O-O,N8d7,Kb1,Nf8,h5,g5,h6,Bh8,Nxg5,Qxg5,Rh3,Qf6,Nh5,Qe6,Rg3+,Ng6,Rh1,Nc4,Bxc4,dxc4,Nf4,Qf7', 'Nxg6,hxg6,h7+', 'https://lichess.org/training/0GAUW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0GbWF', 'Blitz', 'josef38', 1747, 'Philmarco', 1832, 'e4,c5,c3,d6,d4,cxd4,cxd4,e6,Nf3,a6,Nc3,Nf6,h3,Be7,Bd3,O-O,a3,Nbd7,O-O,Qc7,Be3,b5,Rc1,Qb8,Bf4,e5,dxe5,Nxe5,Bh2,Bxh3,Nxe5,Be6,Nf3,Bg4,Be2,Nd7,Nd5,Bd8,Ne3,Bxf3,Bxf3,Ne5,Be2,Bg5,Ng4,Bxc1,Qxc1,Nxg4,Bxg4,Qb7,Bf3,Rad8,e5,Qc8,Qe3,dxe5,Qxe5,Rfe8,Qh5,g6,Qh4,Qe6,Bf4,Rd4,Qg5,Qe7,Qg3,h5,Be3,Rd7,Bc6,Red8,Bxd7,Rxd7,Qb8+,Rd8,Qg3,Qd6,Qf3,Qd3,Qf6,Rd6,Qe7,Re6,Qa7,Qc2,Qa8+,Kg7,Bd4+,Kh6,Bc3,Qe2,Qb8,Qe4,Qh8+,Kg5,Bd2+,Kf5,Bc3,h4,f3,Qe3+,Kh2,Qf4+,Kg1,Qe3+,Kh1,f6,Qxh4,g5,Qg4+,Kg6,Qb4,Re8,Bd2', 'Rh8+,Qh4,Rxh4#', 'https://lichess.org/training/0GbWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0GcoK', 'Rapid', 'swamyyadav', 1626, 'raelst', 1721, 'e4,c5,e5,e6,f4,d5,c3,Nc6,d4,Nge7,Bd3,Ng6,Nf3,cxd4,cxd4,Nb4,Bxg6,hxg6,Qa4+,Bd7,Qd1,Be7,a3,Nc6,Nc3,Bh4+,Ke2,Be7,Bd2,O-O,h4,Rc8,h5,g5,fxg5,b5,Nxb5,Nxe5,Nxa7,Nxf3,Nxc8,Bb5+,Kxf3,Qxc8,h6,e5,hxg7,Qf5+,Kg3,Kxg7,Qh5', 'Qd3+,Qf3,Qxd2', 'https://lichess.org/training/0GcoK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0GdRx', 'Rapid', 'rakhichess', 2121, 'atomarviento', 2265, 'e4,c5,Nf3,d6,c3,Nf6,d3,Nc6,Bg5,e6,Be2,Be7,O-O,O-O,Nbd2,b5,d4,cxd4,cxd4,Rb8,Rc1,Bd7,Bxf6,Bxf6,d5,exd5,exd5,Ne5,b3,a6,Ne4,Nxf3+,Bxf3,Be7,Re1,Re8,Rc3,Rc8,Rce3,Bf8,Bh5,g6,Bf3,Qh4,Qd4,Bg7,Qa7,Bf5,g3,Qd8,Qxa6,Bxe4,Rxe4,Rxe4,Rxe4,Rc5,Re1,Bc3,Re3,b4,Qa4,Kg7,Kg2,Ra5,Qc6,Rxa2,Re8,Qf6,Qc8,Qd4', 'Rg8+,Kf6,Qd8+', 'https://lichess.org/training/0GdRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0gEcj', 'Rapid', 'dnvando', 1869, 'antoinet13', 1835, 'd4,d5,c4,dxc4,Nc3,e5,d5,c6,e4,cxd5,exd5,Bb4,Bxc4,Nf6,Nf3,Bg4', 'Qa4+,Nbd7,Qxb4', 'https://lichess.org/training/0gEcj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0GhM8', 'Rapid', 'Ihsan_jawad', 2149, 'FabiRey', 1943, 'd4,d5,Nf3,Nc6,g3,Bf5,Bg2,e6,O-O,Nf6,c4,Bd6,Qb3,Rb8,Nc3,O-O,cxd5,exd5,Nxd5,Nxd5,Qxd5,Be6,Qh5,g6,Qh6,Be7,Bg5,Bf6,Rfd1,Bd5,a3,Bxf3,Bxf6,Qxf6,Bxf3,Nxd4,Kg2,Nxf3,exf3,Qxb2,a4,b6,Qf4,Rbc8,a5,h5,axb6,axb6,Ra7,c5,Rdd7,Qg7,Rab7,Rc6,Qe4,Qf6,Qc4,Qe6,Qb5,c4,Rdc7,Rxc7,Rxc7,Rc8,Rxc8+,Qxc8,Qxb6,c3,Qb1,c2,Qc1,Qc3,h3,Qd3,Qb2,Qd1,Qb8+,Kh7,Qb3,Kg8,Qb8+,Kg7,Qb2+,Kf8,Qb8+,Ke7,Qc7+,Ke6,Qc6+,Ke5,f4+,Kd4,Qb6+,Kd3,Qb5+,Kd2,Qb4+,Ke2', 'Qe4+,Kd2,Qe3#', 'https://lichess.org/training/0GhM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0gHwi', 'Classical', 'teoleoi', 1638, 'Orbin14', 1636, 'd4,Nf6,Nc3,d6,e4,Nc6,Bg5,e6,Nf3,Be7,Bb5,Bd7,O-O,h6,Bd2,a6,Bxc6,Bxc6,Re1,Qd7,d5,exd5,exd5,Nxd5,Qe2,O-O', 'Nxd5,Bxd5,Qxe7', 'https://lichess.org/training/0gHwi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ghxb', 'Classical', 'bankbank', 1785, 'melquizedec2', 1676, 'e4,c5,Nf3,d6,Nc3,Nc6,Bc4,e5,d3,h6,O-O,Bd7,a3,a6,h3,Be7,Nd5,Nf6,Be3,Nxd5,Bxd5,Rb8,Qd2,Nd4,Nxd4', 'cxd4,Bxd4,exd4', 'https://lichess.org/training/0ghxb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0gJCL', 'Rapid', 'erdal_sarikulak', 2008, 'preit', 2169, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,Qe7,Qxe4,d6,d4,dxe5,Qxe5,Qxe5+,dxe5,Bf5,Bd3,Bxd3,cxd3,Nc6,f4,Nb4,Kd2,O-O-O,Kc3,Nxd3,Be3,Nb4,Bf2,c6,g3', 'Rd3+,Kc4,b5#', 'https://lichess.org/training/0gJCL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Glbb', 'Blitz', 'mboyzlur', 1767, 'Victoria_Falls', 1748, 'e4,e6,f4,d5,exd5,exd5,Nf3,Nf6,Be2,Bd6,d4,c5,c3,Nc6,O-O,O-O,Be3,cxd4,cxd4,Ne4,Nc3,Bg4,h3,Be6,Nxe4,dxe4,Ne5,Nxe5,dxe5,Bb4,Qc2,Bf5,g4,Be6,Qxe4,Ba5,Rad1,Qc7,Bd3,g6,f5,Bxa2,Bh6,Rfe8,e6,fxe6,fxe6,Rxe6,Qf4,Bb6+,Kg2,Bd5+,Kg3,Qc5', 'Qf7+,Kh8,Bg7#', 'https://lichess.org/training/0Glbb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Go8M', 'Blitz', 'Common1608', 2021, 'mortadha2020', 2051, 'e3,e5,c4,Nf6,Nc3,b6,b3,Bb7,Bb2,d6,Be2,Nbd7,Nf3,Be7,O-O,O-O,d4,e4,Nd2,Re8,Qc2,Bf8,d5,Qe7,Nb5,Rec8,Nd4,a5,Nc6,Bxc6,dxc6,Nc5,a3,d5,b4,axb4,axb4,Rxa1,Rxa1,Nd3,Bxd3,exd3,Qxd3,dxc4,Qc3,Qxb4,Qxb4,Bxb4,Nxc4,Nd5,Kf1,Bc3,Bxc3,Nxc3,Ne5,Rd8,Nd7,Nd5', 'Rd1,Ne7,Nf6+,gxf6,Rxd8+', 'https://lichess.org/training/0Go8M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0gPlA', 'Bullet', 'fredymam', 1893, 'Sharmas007', 1873, 'e4,d5,exd5,Nf6,c4,e6,d4,exd5,Nf3,Bd6,Nc3,dxc4,Bxc4,O-O,O-O,Nc6,Bg5,h6,Bh4,Be7,Re1,Bg4,h3,Bxf3,Qxf3,Nxd4,Qxb7,Rb8,Qxa7,Rxb2,Nd5,Nxd5,Qxd4,Bxh4,Qxb2,Bf6,Qd2,Bxa1,Rxa1,Nb6,Qxd8,Rxd8,Bb3,c5,Rc1,Rc8,Bc4,Kf8,Kf1,Ke7,Ke2,f6,Kd3,Kd6,Rb1,Kc6,Bb5+,Kc7,a4,Rd8+,Kc3,Nd5+,Kc4,Nf4,Kxc5,Nxg2,a5,Nf4,a6,Kb8,Bc6+,Ka7,Rb7+,Kxa6,Rf7,Rd2,f3,Rg2', 'Bb5+,Ka5,Ra7#', 'https://lichess.org/training/0gPlA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0grEg', 'Rapid', 'Rogertal', 1747, 'Mahamad111', 1686, 'Nf3,g6,d4,Bg7,e4,d6,Be3,Nd7,c3,c5,Be2,cxd4,cxd4,Ngf6,Nbd2,O-O,O-O,e5,Qc2,Ng4,d5,Nxe3,fxe3,Nf6,Rfe1,Bg4,Bd1,Rc8,Qb3,b6,Nf1,Nxe4,Bc2,Nc5,Qa3,a6,Rac1,e4,Nd4,Qg5,Ng3,h5,Nxe4,Nxe4,Bxe4,f5,Nf3,Bxf3,Bxf3,f4,Rxc8,Rxc8,exf4,Qxf4,Qd3,Bd4+,Kh1,Rc1,Qxg6+,Bg7,Qe8+,Kh7,Bxh5', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/0grEg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0GReI', 'Rapid', 'Ewol', 1793, 'Ismael1984', 1803, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,Nf3,Bd6,e4,dxe4,Nxe4,Be7,Ng3,Nbd7,Be2,O-O,O-O,a6,a4,h6,Bf4,Nh7,Qd2,Ndf6,Rfd1,Bd7,Ne5,Qc8,Nh5,Nxh5,Bxh5,Be8,c5,f6,Ng6,Bxg6,Bxg6,Ng5,h4,Nf7,Ra3,Nh8,Rg3,Nxg6,Rxg6,Kh7,Bxh6,Kxg6,Qd3+,Kf7,h5,f5,Qg3,Bf6,Qg6+,Kg8,Bxg7,Bxg7,h6,Qd7,hxg7,Rf7,Re1,Re8,Re3,Ree7,Rh3,Rxg7,Qh6,Rh7,Qg6+,Reg7', 'Rxh7,Rxg6,Rxd7', 'https://lichess.org/training/0GReI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0gsDk', 'Rapid', 'huseyin48', 1768, 'JU5TIS5', 1767, 'e4,c5,Bc4,Nc6,Nf3,g6,O-O,Bg7,c3,e6,h3,Nge7,d4,cxd4,cxd4,d5,exd5,exd5,Bb5,O-O,Nc3,a6,Ba4,b5,Bb3,Be6,Bg5,Qd7,Re1,Nf5,Ne5,Nxe5,dxe5,Ne7,Bxe7,Qxe7,Nxd5,Bxd5,Qxd5,Rad8,Qc6,Qa7,e6,fxe6,Rxe6,Qxf2+,Kh1,Kh8,Qxa6,Rd2,Qb7,Bh6,Re7', 'Qf1+,Rxf1,Rxf1+,Kh2,Bf4#', 'https://lichess.org/training/0gsDk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0H09a', 'Blitz', 'Toooos', 1575, 'TheWolfman1982', 1670, 'Nf3,d5,d4,Bg4,Ne5,Bh5,g4,Bg6,Nxg6,hxg6,Bg2,e6,O-O,c5,Bf4,Bd6,Be3,Qh4,f4,Qxh2+,Kf2,Nf6,Kf3,Ne4,Qe1,f5,Rh1,fxg4+,Kxg4,Rh4+,Kf3,Ng5+,fxg5', 'Rf4+,Bxf4,Qxf4#', 'https://lichess.org/training/0H09a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0H2AN', 'Rapid', 'rnuguidjr', 1740, 'Erick771', 1729, 'd4,d5,Nf3,Nc6,Bg5,h6,Bh4,g5,Bg3,Nf6,Ne5,Ne4,Nd2,Bg7,Nxc6,bxc6,Nxe4,dxe4,e3,e5,dxe5,Qe7,Qd4,O-O,Qxe4,f5,Bc4+,Be6,Qxc6', 'Qb4+,c3,Qxc4,Qxc4,Bxc4', 'https://lichess.org/training/0H2AN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0h6aH', 'Rapid', 'WalidAyach', 1713, 'KannImmerNochNix', 1770, 'e4,e5,Nf3,Nc6,Bb5,Qf6,Nc3,Bc5,Nd5,Qd8,d3,Nd4,Nxe5,Nxb5,Qf3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/0h6aH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0h7wU', 'Classical', 'Guguli', 1850, 'Chachovk', 2026, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,O-O,e5,Nf3,Bg4,h3,Bh5,Nbd2,Be7,b3,Nc6,c3,Qd7,Nc4,Qc7,Be3,Nd7,Be2,b5,Nb2,Bg6,Bd3,O-O,Qe2,Nc5,Bxc5,dxc5,c4,b4,Na4,Nd4,Nxd4,cxd4,Rac1,f5,exf5,Bxf5,Bxf5,Rxf5,Qe4,Raf8,f3,Bg5,Rc2,Be3+,Kh1,Rf4,Qd5+,Qf7,Qxf7+,R8xf7,Rd1,h5,Nb6', 'd3,Rxd3,Bxb6', 'https://lichess.org/training/0h7wU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0hbu7', 'Rapid', 'komarnik', 1877, 'n2nano', 1771, 'e4,e5,f4,f5,exf5,exf4,Qh5+,g6,fxg6,Nf6,Qh4,Bg7,Qxf4,hxg6,Qg3,Kf7,Bd3,Qe7+,Ne2,Ne4,Bxe4,Qxe4,O-O+,Kg8,Qb3+,d5,Ng3,Bd4+,Kh1', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/0hbu7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0HCWY', 'Rapid', 'Kenny_tony', 1682, 'E4fun', 1677, 'e4,g6,Nf3,Bg7,d4,d6,Bc4,Nc6,O-O,Nf6,Re1,e5,dxe5,dxe5,Qxd8+,Nxd8,Nxe5,Ne6,Nc3,Nd7,Nxd7,Bxd7,Nd5,Rc8,Rb1,Nd4,Bd3,c6,Ne3,Ke7,c3,Ne6,Nc4,b6,Na3,Nc5,Bc2,Ke6,Bd1,Ke5,Bf3,Be6,c4,Rcd8,b4,Nd3,Bb2+,Nxb2,Rxb2,Rd3,Rb3,Rhd8,Rxd3,Rxd3,Nb1,Bxc4,a4,Rb3,b5,cxb5,axb5,Bxb5,h3,Rb4,Nc3,Bc6,Nd1,Bxe4,Nc3,f5,g4,Kf4,Bxe4,fxe4', 'Nd5+,Ke5,Nxb4', 'https://lichess.org/training/0HCWY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0hDC4', 'Classical', 'Nomi183', 1831, 'MarcelFrydel', 1941, 'e4,e5,Bc4,Nf6,Qf3,Nc6,c3,Bc5,a3,d6,h3,O-O,Ne2,Be6,d3,d5,exd5,Nxd5,O-O,Qd6,Be3,Nxe3,fxe3,Bxc4,dxc4,Rfe8,Qxf7+,Kh8,Qh5,Bxe3+,Kh1,e4,b4,Qh6,Qd5,Qe6', 'Rf8+,Rxf8,Qxe6', 'https://lichess.org/training/0hDC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0hfFv', 'Blitz', 'LexusG', 1978, 'condede69ramsgate', 2057, 'd4,d5,Nc3,Nf6,Bf4,e6,e3,Be7,Bd3,O-O,Nf3,c6,O-O,Nbd7,Ne2,c5,c3,b6,Rc1,Bb7,Bb1,Ne4,Ne5,f6,Nxd7,Qxd7,f3,Nd6,Qc2,g6,Bh6,Rf7,Ng3,Bf8,Bxf8,Raxf8,Rce1,e5,b3,Rc8,Qd2,Nb5,dxc5,Rxc5,Rc1,Qc8,Bd3,Nxc3,Rc2,Rfc7,Rfc1,a5,a3,b5,b4,axb4,axb4,R5c6,Kf2,e4,fxe4,dxe4,Nxe4,Nxe4+,Bxe4,Rxc2,Bxc2,Kg7,h3,Be4,Bxe4,Rxc1,Bd3,Rc4,Bxc4,bxc4,Qc3,Qc6,g3,Qd5,Qd4,Qe6,Qa7+,Kh6,g4,c3,Qc5,Qa2+,Kf3,Qd2', 'Qf8+,Kg5,h4+,Kxh4,Qh6#', 'https://lichess.org/training/0hfFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Hg6g', 'Rapid', 'chape', 1984, 'BurningSoul', 2271, 'e4,e5,f4,exf4,Bc4,Qh4+,Kf1,Nf6,Nf3,Qh5,Nc3,c6,d4,g5,h4,h6,Kg1,g4,Ne5,d5,exd5,Bd6,Bxf4,O-O,Qd2,Kg7,Rf1,Nxd5,Nxd5,cxd5,Bxd5,f6,Nc4', 'Bxf4,Qxf4,Qxd5', 'https://lichess.org/training/0Hg6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0HK7a', 'Classical', 'Scott_OSRS', 1890, 'monahhhh', 1807, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,e5,Nf3,Bg4,dxe5,Bxf3,Qxf3,Qxe5+,Be2,Nc6,Bf4,Qa5,O-O-O,Bb4,Rd5,Bc5,Be3,b6,Bxc5,bxc5,Bb5,Qb6,Re1+,Ne7,Qe3,O-O,Rxc5,a6,Bxc6,Nxc6,Nd5,Qb7,Qc3,Nd8,Nxc7,Rc8,Ne8,Rxc5', 'Qxg7#', 'https://lichess.org/training/0HK7a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0HkHO', 'Rapid', 'glebv99', 1942, 'Richard1048', 1922, 'd4,Nf6,Nf3,d6,Nc3,g6,e4,Bg7,Be3,O-O,Bd3,Nbd7,h3,e5,d5,a6,Qd2,Nc5,Bh6,Nxd3+,cxd3,b5,O-O,b4,Na4,Nh5,Bxg7,Kxg7,Qxb4,Bd7,b3,a5,Qd2,Nf4,Nc3,Qc8,Ne2,Nxh3+,gxh3,Bxh3,Rfc1', 'Qg4+,Ng3,Qxf3', 'https://lichess.org/training/0HkHO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0HLRB', 'Blitz', 'holucaust', 1610, 'mrbayat', 1640, 'e4,e5,d4,exd4,Qxd4,Nc6,Qa4,Nf6,Nc3,Bb4,Nf3,Bxc3+,bxc3,Nxe4,Qxe4+,Ne7,Bc4,d5,Bxd5,Qxd5,Qe3,Be6,O-O,O-O,Bb2,Rad8,Rfd1,Qf5,Qe2,Ng6,Nd4,Qf6,c4,Qf4,Nxe6,fxe6,Bc1,Qf5,Rxd8,Rxd8,h3,Nf4,Qf3,e5,g3,Nxh3+,Kg2,Qxf3+,Kxf3,h6,Ba3,Ng5+,Kg2,Rd2,Rb1,Ne4,Rxb7,Rxf2+,Kh3,Rxc2,Rxc7,Rxa2,Rxa7,g5,Ra8+,Kf7,Ra7+,Kg6,Ra6+,Kf5', 'g4+,Kf4,Bc1+,Kf3,Rxa2', 'https://lichess.org/training/0HLRB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0HPlZ', 'Blitz', 'sucharos', 1636, 'calaf81', 1691, 'e4,c5,Nc3,e6,f4,a6,a3,b5,Nf3,Bb7,Bd3,Nf6,e5,Nd5,O-O,Nxf4,Be4,Bxe4,Nxe4,Nd5,d3,Be7,Nfg5,Bxg5,Nxg5,f6,exf6,Nxf6,Bf4,O-O,Be5,Nc6,Bc3,Nd5,Qh5,h6,Bxg7,Kxg7', 'Rf7+,Rxf7,Qxf7+,Kh8,Qh7#', 'https://lichess.org/training/0HPlZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0HpVa', 'Blitz', 'amurushkin', 1953, 'rati1', 1871, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Bxf2+,Kxf2,Nxe5,Be2,Qf6+,Bf3,Ng4+,Kg1', 'Qd4+,Kf1,Qf2#', 'https://lichess.org/training/0HpVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0hrOs', 'Rapid', 'barcoalado', 1823, 'rohitrockstar218', 1833, 'e4,b6,Nf3,Bb7,Nc3,Nf6,Bc4,Nxe4,Nxe4,Bxe4,Ng5,d5,Nxe4,dxc4,Qf3,Nc6', 'Nf6+,exf6,Qxc6+,Qd7,Qxa8+', 'https://lichess.org/training/0hrOs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0HrRC', 'Blitz', 'mohammed111', 1680, 'unalant', 1657, 'e4,c5,Nf3,e6,c3,d5,e5,a6,d4,Nc6,Be3,c4,Nbd2,Nge7,b3,cxb3,axb3,Ng6,Bb5,Bd7,Bd3,Be7,c4,dxc4,bxc4,O-O,d5,Ncxe5,Nxe5,Nxe5,Be2,exd5,cxd5,Bb4,O-O,Bc3,Rb1,Rb8,Nc4,Nxc4,Bxc4,b5,Bb3,Bf5,Rc1,Bf6,Bd4,Bg5,f4,Bf6,Bc5,Re8,d6,Rc8,Re1,Rxe1+,Qxe1,Bb2,d7,Rxc5', 'Qe8+,Qxe8,dxe8=Q#', 'https://lichess.org/training/0HrRC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0hW9J', 'Blitz', 'Royaluba2905', 2086, 'sohei_katana', 2085, 'd4,e6,c4,d5,Nc3,Nf6,e4,Nxe4,Nxe4,dxe4,f3,exf3,Nxf3,b6,Bd3,Bb7,O-O,Be7,Kh1,O-O,Be3,Nd7,Qd2,Nf6,Rad1,Rc8,Bg5,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/0hW9J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0hWDC', 'Rapid', 'Hero1337', 1620, 'Ismatillo', 1614, 'd4,Nf6,c4,d5,Nc3,Nc6,e3,e6,Nf3,b6,Be2,Bb7,O-O,Ba6,b3,Bb4,Bd2,Bxc3,Bxc3,Ne4,Bb2,O-O,Qc2,Nb4,Qd1,c5,a3,Nc6,Re1,Qf6,dxc5,Qxb2,cxb6,axb6,cxd5,Bxe2,Rxe2,Qc3,dxc6,Qxc6,Rc1,Qb7,Nd4,Rxa3,Qc2,Nc5,Qb2,Rfa8,b4', 'Nd3,Qxa3,Rxa3', 'https://lichess.org/training/0hWDC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0HwGS', 'Rapid', 'SatoriSCS', 1865, 'akornyush', 1863, 'd4,d5,Nf3,c5,dxc5,Nc6,e3,e5,Bb5,Qa5+,Nc3,e4,Nd4,Bd7,a3,Bxc5,Nxc6,bxc6,Bd2,Qc7,Be2,Bd6,O-O,Bxh2+,Kh1,Be5,f4,exf3,Bxf3,Qd6,Ne2,Qh6+,Kg1,Bh2+,Kf2,Be5,e4,Qh2', 'Rh1,Qxh1,Qxh1', 'https://lichess.org/training/0HwGS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Hxu5', 'Rapid', 'SuperSenya', 1935, 'teoman1606', 1878, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Nxe5,Nxe5,d4,Nc6,d5,Ne5,f4,Ng6,e5,Ng8,d6,cxd6,exd6,Qb6,Nb5,Kd8,f5,Ne5,Qd5,Ng4,Qf3,Ne5,Qd5,Ng4,Qf3,N8f6,h3,Ne5,Qc3,Bxd6,Be3,Qc6,Qb3,a6,Nd4,Qc7,O-O-O,Re8,Ne6+,fxe6,Bb6,exf5,Bxc7+,Bxc7,Bc4,Ne4,Rhe1,Nxc4,Qxc4,Bf4+,Kb1,Nd2+,Rxd2', 'Rxe1+,Rd1,Rxd1#', 'https://lichess.org/training/0Hxu5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0hzBl', 'Blitz', 'atoyak', 2159, 'Tartakover1', 2035, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,O-O,Qf6,e5,Qg6,c3,dxc3,Nxc3,Nge7,Ne4,Qxe4,Ng5,Qxc4,Qh5,Nxe5,Be3,Bd6,Rac1,Qxa2,f4,Qb3,Bd4,N5g6,Bxg7,Rg8,Qxh7,Bxf4,Ne4,Qe3+,Kh1,Rxg7,Qxg7,Qxe4,Rce1,Qf5,g3,Qd5+,Kg1,Qc5+,Kg2,Bd6,Qxf7+,Kd8', 'Qf8+,Nxf8,Rxf8#', 'https://lichess.org/training/0hzBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0IA6I', 'Rapid', 'gogoLSFC', 1875, 'willemvogel', 1855, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bb5,Nge7,O-O,a6,Bc4,O-O,Nd5,d6,Nxe7+,Qxe7,Bd5,Be6,c3,f6,a3,Qf7,c4,Kh8,b4,Ba7,b5,axb5,cxb5,Nd8,Bxe6,Nxe6,d3,Nd4,Nxd4,Bxd4,Rb1,Qa2,Rb3,Ra7,Rb4,Bc5,Rc4,Rc8,Rc2,Qf7,a4,Rca8,Rc4,b6,Be3,Rd8,Rc1,Qa2,Ra1,Qb2,Re1,Bd4,Re2', 'Qxa1,Qxa1,Bxa1', 'https://lichess.org/training/0IA6I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0IC4r', 'Blitz', 'apuanerwinjay', 1834, 'vc_jav77', 1821, 'e4,e5,d4,exd4,Qxd4,Nc6,Qa4,Qf6,Nf3,h6,Bd3,Nb4,e5,Nxd3+,cxd3,Qf5,d4,Qe4+,Be3,Ne7,Nc3,Qg6,O-O,Nf5,Bf4,c6,Rac1,Be7,d5,Bg5,Bg3,Bxc1,Rxc1,Nxg3,fxg3,O-O,Ne4,cxd5,Nd6,b6,Qf4,Ba6,Nh4,Qe6,Nhf5,Bd3,g4,d4,Nxd4,Qxa2,g5,h5,Qh4,Qxb2,Re1,Bg6,N6f5,Bxf5,Nxf5,Qc3', 'Ne7+,Kh7,Qxh5#', 'https://lichess.org/training/0IC4r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0IcCP', 'Classical', 'Langevin_ar', 1718, 'sackofschnapps', 1694, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,h3,d6,Be3,c5,d5,e6,Qd2,exd5,cxd5,a6,Bh6,b5,Bxg7,Kxg7,Bd3,Nbd7,Nf3,Bb7,O-O,Qb6,b3,Rae8,Rfe1,Ne5,Bc2,Nxf3+,gxf3,Re5,Ne2,Rfe8,Ng3,Bc8,Kh2,Qd8,Rh1,Nh5,Kg2,Qh4,Nxh5+,Rxh5,Kf1,Bxh3+,Ke2,Qg5', 'Qxg5,Rxg5,Rxh3', 'https://lichess.org/training/0IcCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ihu0', 'Rapid', 'Ghostliner', 1700, 'maximus_78', 1903, 'd4,Nc6,Nf3,d6,Bf4,Nf6,e3,Bg4,Be2,e6,O-O,Be7,c3,O-O,h3,Bh5,Nbd2,Bg6,Nh4,e5,Nxg6,hxg6,Bg5,Nh7,Bxe7,Qxe7,f4,exf4,exf4,Rae8,Bf3,Qe3+,Kh1,Nf6,Nc4,Qe6,Qd3,Qd7,Rae1,Rxe1,Rxe1,Re8,Re2,Ne7,Nd2,Nf5,Rxe8+,Qxe8,Bxb7,Qb8,Qb5,c5,dxc5,dxc5,Bc6,Qxf4,Qd3,Qf2,Kh2,Qf4+,Kh1,Nh5,Ne4,Qc1+,Kh2,Qf4+,Kg1,c4', 'Qd8+,Kh7,Ng5+,Qxg5,Qxg5', 'https://lichess.org/training/0ihu0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0iiir', 'Rapid', 'Lecathare31', 1723, 'lekope', 1759, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,Rc8,O-O,cxd4,cxd4,Nge7,a3,Nf5,b4,a6,Bb2,b5,Bd3,g6,Bxf5,exf5,Nc3,Be6,Ng5,Be7,Nxe6,fxe6,Ne2,Bg5,f4,Bh6,Rc1,O-O,Rc3,Rf7,Rh3,Bg7,Kh1,a5,Qd3,Na7,Rc1,Rc4,Bc3,axb4,Bxb4,Rxc1+,Nxc1,Bf8,Nb3,Bxb4,axb4,Qb6,Nc5,Nc6,Qc3,Ra7,Nxe6,Ne7,Nc5,Ra2,Kg1,Qa7,Rf3,Nc6,Rf2,Ra1+,Rf1,Rxf1+,Kxf1,Qa2,Nb3,Qb1+,Kf2,Qa2+,Kf3', 'Qxb3,Qxb3,Nxd4+,Ke3,Nxb3', 'https://lichess.org/training/0iiir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ILCc', 'Blitz', 'Bogoljubows', 2324, 'CM BrutneySpears', 2409, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,Be3,Qb6,Nc3,Nc6,O-O,Qxb2,Qe1,cxd4,Bxd4,Nxd4,Nxd4,Bb4,Ndb5,Ba5,Rb1,Qxc2,Rc1,Qb2,g4,Bg6,f4,Ne7,Nd6+,Kf8,f5,exf5,gxf5,Qb6+,Kh1,Nxf5,Nxf5,d4,Qh4,dxc3,Qe7+,Kg8,e6,Qc6+,Rf3,Re8,exf7+,Bxf7', 'Nh6+,Qxh6,Qxf7#', 'https://lichess.org/training/0ILCc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0IMmC', 'Blitz', 'moejccarthy', 1507, 'piwenzo', 1514, 'e4,e6,Nf3,a6,Bc4,b5,Bb3,Bb7,Nc3,c5,a3,Nc6,O-O,Nf6,Re1,Qb6,d3,h5,Be3,Ng4,Bf4,c4,dxc4,Qxf2+,Kh1,bxc4,Bxc4,Na5,Ne5,O-O-O,Bg3,Qxg3,hxg3,Nf2+,Kg1,Nxd1,Raxd1,Bc5+,Kh2,Rhf8,Be2,h4,gxh4,Bf2,Rf1,Bxh4,Nxf7,Rxf7,Rxf7,g5,Na4,Bxe4,Nb6+,Kb7,Nxd7,Rh8,Nc5+,Kc6,Nxe4', 'Bf2+,Rh7,Rxh7+,Bh5,Rxh5#', 'https://lichess.org/training/0IMmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0iq1A', 'Blitz', 'GM benlyli', 2579, 'oninlenar', 2429, 'e4,Nc6,Nf3,d6,d4,Bg4,Be3,Nf6,Nc3,e6,h3,Bh5,Be2,Be7,O-O,O-O,Qd2,Bg6,Bd3,d5,exd5,exd5,Ne5,Nxe5,dxe5,Ne4,Bxe4,dxe4,Rad1,Qxd2,Rxd2,Bb4,Rd7,Ba5,Nd5,Rfe8,Nxc7,Rad8,Rfd1', 'Bxc7,Rxc7,Rxd1+', 'https://lichess.org/training/0iq1A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Iv6r', 'Rapid', 'Aghattha_Faith', 1737, 'Tejasdeep', 1617, 'e4,e5,Nf3,d6,Nc3,Be7,Bc4,Nf6,d4,exd4,Nxd4,O-O,O-O,Nbd7,Re1,Ne5,Be2,b6,Nd5,Bb7,Nxe7+,Qxe7,Nf5,Qd7,f4,Nc6,Bb5,a6,Bxc6,Bxc6,b3,Bxe4,Rxe4,Nxe4', 'Qg4,Qxf5,Qxf5', 'https://lichess.org/training/0Iv6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0iWwN', 'Rapid', 'Petfisch8820', 1987, 'FFera', 1956, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Be3,e5,Nxc6,bxc6,Nc3,Nf6,Bc4,d6,O-O,Be6,Bxe6,fxe6,f4,exf4,Rxf4,Be7,Qf3,O-O,Rd1,Qc7,Rf1,Rad8,Qh3,e5,Rh4,d5,exd5,cxd5,Bg5,g6,Bxf6,Bxf6,Qe6+,Qf7', 'Rxf6,Qxe6,Rxe6', 'https://lichess.org/training/0iWwN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0iX32', 'Blitz', 'smash_me', 1851, 'Nikollaj51', 1610, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bb4,Bg5,O-O,Be2,Nbd7,O-O,c6,a3,Bd6,h3,Qc7,Re1,Nh5,Bd3,Ndf6,Bxf6,Nxf6,b4,Bd7,Na4,Qc8,Nc5,Bxh3,gxh3,Qxh3,Re3,Ng4,Bf5', 'Bh2+,Nxh2,Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/0iX32');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0j0TV', 'Classical', 'PedroAbdala216', 1889, 'manhmeo', 1911, 'd4,d5,c4,c6,Nf3,Nf6,Bg5,e6,Nc3,a6,a4,h6,Bxf6,Qxf6,cxd5,cxd5,e3,Bd6,Qc2,Nc6,Bd3,Nb4,Qe2,Bd7,e4,Nxd3+,Qxd3,Qg6,O-O,dxe4,Qxe4,Bc6,Qxg6,fxg6,Ne5,Bxe5,dxe5,Ke7,Ne2,Rad8,Nf4,Kf7,a5,g5,Nh5,Kg6,Ng3,Rd2,b4,Rhd8,f3,R8d5,Rfe1,Rb2,Ne4,Rxe5,Nc5,Rxe1+,Rxe1,Rxb4,Rxe6+,Kf5', 'g4+,Kf4,Nd3+,Kxf3,Nxb4', 'https://lichess.org/training/0j0TV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0J3f6', 'Rapid', 'slaterkelly249', 1869, 'Biysk-chess', 1858, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,d6,d4,cxd4,Nxd4,Ne5,Bb5+,Bd7,Bxd7+,Qxd7,f4,Nc6,Nxc6,bxc6,O-O,Nf6,Be3,Be7,Qf3,d5,e5,Ng8,Rfd1,Nh6,Qf2,Nf5,Bc5,O-O,Ne4,a6,g4,Bxc5', 'Nxc5,Qe7,gxf5', 'https://lichess.org/training/0J3f6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0j3Kf', 'Rapid', 'budivoj15', 1698, 'pa1suki', 1620, 'Nf3,d5,d4,Nc6,Nc3,Nf6,h3,Bf5,Bf4,e6,Nh4,Bg6,Nxg6,hxg6,e3,Bd6,Bg5,Rh5,Bxf6,gxf6,Be2,Rh6,Qd2,Qd7,e4,Rh7,exd5,exd5,Qe3+,Qe7,Nxd5,Qxe3,fxe3,Bg3+,Kd2,O-O-O,Nxf6,Rh4,Bg4+,Kb8,a3,Be5,Ne4,f5,Ke2,Bxd4,exd4,Nxd4+,Kf2,fxg4,hxg4,Rxh1,Rxh1,Rf8+,Kg3', 'Ne2+,Kh4,Rh8+,Kg5,Rxh1', 'https://lichess.org/training/0j3Kf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0j40Y', 'Rapid', 'bmv7777', 1756, 'Garred', 1701, 'e4,Nc6,d4,e6,a3,Be7,Nf3,Nf6,Bd3,d6,O-O,O-O,c3,Bd7,Qc2,e5,d5,Nb8,b4,c6,c4,a5,Bb2,axb4,axb4,Rxa1,Bxa1,b5,c5,Na6,dxc6,Nxb4,Qc3,Nxc6,cxd6,Bxd6,Bxb5,Nd4,Bxd7', 'Ne2+,Kh1,Nxc3', 'https://lichess.org/training/0j40Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0j7Fu', 'Rapid', 'PaulZibert2', 1896, 'rgc123', 1801, 'e4,c5,Bc4,d6,d3,e5,f4,Nc6,f5,Be7,Nf3,Bh4+,g3,Bf6,O-O,Nge7,c3,Na5,Bb3,Nxb3,axb3,Bd7,c4,Nc6,Nc3,Nd4,Nd5,Bc6,Be3,Bxd5,cxd5,a6,Bxd4,cxd4,Qd2,h6,Qb4,Rb8,Rfc1,O-O,Kg2,Qe7,h4,g6,Rc4,Rfc8,Rac1,Qd7,g4,Qd8,Kg3,gxf5,exf5,Be7,Rxc8,Rxc8,Rc4,Qd7,Qd2,Bf8,f6,Rc5,Rxc5,dxc5,Nxe5,Qd6,Qf4,Qxd5,Qe4', 'Qxe4,dxe4,Bd6', 'https://lichess.org/training/0j7Fu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JAIK', 'Rapid', 'upin_ipin_kw', 1785, 'Grasparossa', 1795, 'e4,c6,d4,d5,Nc3,dxe4,f3,Nf6,Bf4,exf3,gxf3,Bf5,Qd2,e6,O-O-O,Bd6,Nh3,Qc7,Bxd6,Qxd6,f4,Nbd7,Rg1,g6,Ng5,h6,Nf3,O-O-O,Ne5,Nxe5,fxe5,Qb4,exf6,a6,a3,Qa5,b4,Qxa3+,Kb1,Qxb4+,Kc1,Qa3+,Kb1,Rd7,Qe3,Rhd8,Bg2,Qb4+,Ka2,Rxd4,Rxd4,Rxd4,Rd1,Bxc2,Rxd4', 'Qb3+,Ka1,Qa3+,Na2,Qxe3', 'https://lichess.org/training/0JAIK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0jC12', 'Classical', 'Sayton', 1708, 'sepThemba27', 1745, 'd4,Nf6,Nf3,e6,Bg5,d5,Nbd2,c5,c4,dxc4,Nxc4,cxd4,Nxd4,Be7,Nb5,Nc6,Nbd6+,Bxd6,Nxd6+,Ke7,Nxc8+,Rxc8,e4,Re8,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/0jC12');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0jf4v', 'Blitz', 'milladranj', 1661, 'loboestepario40', 1651, 'd4,d5,c4,e6,e3,Nf6,Nf3,Be7,Bd3,b6,O-O,Bb7,Re1,O-O,Nc3,Nbd7,cxd5,Nxd5,e4,Nxc3,bxc3,c5,dxc5,Nxc5,Bc2,Qxd1,Rxd1,Bxe4,Bxe4,Nxe4,Bb2,Bf6,Rd4,Nc5,Rdd1,Ne4,Nd4,Rac8,Rac1,Rc5,f3,Bxd4+,Rxd4,Nf6,Ba3,Rfc8,Bxc5,Rxc5,Rcd1,g6,Rd8+,Kg7,Ra8,Rxc3,Rxa7,Nd5,Rb1,Rc2,Ra6,h5,a4,g5,a5,bxa5,Rxa5,Kg6,Ra7,Ne3,Rbb7,Rxg2+,Kh1,Rf2,Rxf7,Nf5,Rf8,Rxf3,Rg8+,Kf6,Ra6,h4,Re8', 'Rf1+,Kg2,Ne3+,Kh3,Rf3#', 'https://lichess.org/training/0jf4v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0jFaq', 'Classical', 'katzenkiller', 1737, 'orger_move', 1748, 'b3,e5,Bb2,Nc6,Nf3,d6,e4,Nf6,d3,Be7,Nc3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,c6,Ne2,c5,Nxd4,cxd4,Qe2,O-O,O-O-O,Rc8,Kb1,d5,exd5,Nxd5,Qxe5,Bf6,Qe2,Re8,Qf3,Qc7,g4,Qxc2+,Ka1,Qc6,Bg2,Nc3,Qxc6,bxc6,Rde1,Red8,f4,h6,h4,Rc7,g5,hxg5,hxg5,Be7,Rh3,Bd6,Reh1,Kf8,Rh8+,Ke7,Re1+,Kd7', 'Bh3+,f5,gxf6#', 'https://lichess.org/training/0jFaq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JfJY', 'Rapid', 'Sfide_Mentali', 2003, 'polaco13', 2014, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,d3,Bxd3,g6,Bc4,Bg7,O-O,Nf6,e5,Ng4,Bf4,Ncxe5,Nxe5,Nxe5,Bxe5,Bxe5,Qd5,Qc7,Qxf7+,Kd8,h3,b6,Na3,a6,Rad1,Bb7,Rfe1,Bd6,Qg7,Re8,Qxh7,Bxa3,Bf7,Rf8,bxa3,Qf4,Rxe7,Kxe7,Bxg6+,Kf6,g3,Qf3', 'Rd6+,Ke5,Qe7#', 'https://lichess.org/training/0JfJY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JFtK', 'Blitz', 'ingvar82', 1884, 'AlexMasters', 1830, 'd4,b6,c4,Bb7,Nc3,e6,e3,d5,Nf3,Nd7,Bd3,Ngf6,O-O,c5,cxd5,Nxd5,Nxd5,Bxd5,b3,cxd4,Nxd4,Bc5,Nf3,Nf6,Bb2,Be7,Bb5+,Kf8,Ne5,a6,Bc6,Rc8,Bxd5,Nxd5,Rc1,Bf6,Qh5,Bxe5,Rxc8,Qxc8,Qxe5,f6,Qd6+,Kf7,e4,Rd8,Qg3,Nb4,Rc1', 'Qxc1+,Bxc1,Rd1#', 'https://lichess.org/training/0JFtK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JkJN', 'Rapid', 'nosobras', 1857, 'Peter160871', 1877, 'e4,e5,Nf3,d6,Bc4,Qf6,O-O,Be6,Bxe6,Qxe6,c3,h6,d4,Nf6,d5,Qd7,Nh4,Nxe4,Nd2,Nf6,Qf3,Be7,Qg3,Nh5,Qf3,Bxh4,Qxh5,Bf6,Nf3,Qe7,g3,Nd7,Qg4,Nc5,b4,Nd7,c4,c5,b5,Nb6,Nd2,O-O,Ne4,Nxc4,Nxf6+,Qxf6,Qxc4,Qf3,Be3,f5,Bd2,f4,a4,Rf6,Rac1,Qg4,f3,Qh3,Rf2,fxg3,hxg3,Qxg3+,Kf1,Raf8,Rc3,Qh3+,Ke2,g5,Qe4,Rf5,f4,Qg4+,Rcf3,gxf4,Kf1,Qh5,a5,R8f7,b6,a6,Ke2,Kg7,Rg2+,Kf6,Qa4,Qh1,Rgf2,h5,Qe8,Kg6,Qe6+,R5f6,Qe8,h4,Qg8+,Rg7,Qe8+,Kg5,Bxf4+', 'Rxf4,Rxf4,exf4', 'https://lichess.org/training/0JkJN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JMdD', 'Classical', 'jeffrey19', 1852, 'thewallachian', 1852, 'e4,e5,f4,f6,Bc4,Bc5,Nf3,exf4,d4,Bb6,c3,Ne7,Qb3,d5,exd5,Qd6,O-O,O-O,Nh4,g5,Qd1,gxh4,Qh5,Ng6,Bd3,Rf7,Qh6,Rg7,Nd2,f5,Nf3,Qxd5,Bxf4,Nxf4,Qxf4,Rg4,Qh6,Bd7,b3,Bc6,Bc4,Nd7,Rae1,Kh8,Re7,Qd6', 'Qxh7#', 'https://lichess.org/training/0JMdD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JOyR', 'Rapid', 'kappa_1', 1882, 'bjossi_lml', 1791, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,f5,Nf3,Nf6,Bd2,Qb6,b3,e6,Qe2,Bc5,Na4,Qd6,g3,Ba3,Bf4,Qe7,Bg2,O-O,O-O,b5,Nc3,Bd7,Ne5,Nc6,Nxc6,Bxc6,Bxc6,Rad8,Bxb5,Qb4,Bd2,Nd5,Nxd5,Qxb5,Qxe6+,Rf7,Nc3,Qd7,Qxd7,Rfxd7,Nb5,Bc5,Be3,Bb6,Nxa7,Bxe3,fxe3,c5,Nc6,Ra8,Rxf5,g6,Rf3,Rd6,Ne5,Re6,Nc4,Kg7,a4,Rae8,a5,Kh6,h4,g5,Raf1,gxh4,gxh4,Kh5,Rf4,Rg8+,Kh2,Rg4,Kh3,Reg6,R1f3,Rg1,Ne5', 'Rh1#', 'https://lichess.org/training/0JOyR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JPsp', 'Blitz', 'Amir6939', 2519, 'IM Kacparov', 2683, 'e4,c5,Nc3,e6,g3,Nc6,Bg2,g6,d3,Bg7,Be3,Nd4,Qd2,Ne7,Nge2,O-O,O-O,d5,exd5,exd5,Nd1,Nef5,Nxd4,cxd4,Bf4,Be6,h4,Rc8,Re1,h5,c3,dxc3,bxc3,Qa5,Rb1,b6,Be5,d4,Bxg7,Kxg7,Rc1,Qxa2,Qxa2,Bxa2,Ra1,dxc3,Nxc3,Rxc3,Rxa2,Rc7,Rea1,a5,Rb1,Rb8,Rxa5,bxa5,Rxb8,Ra7,Bd5,a4,Ba2,a3,Kg2,Kf6,Rb6+,Ke5,Rb4,Nd4', 'f4+,Kf6,Rxd4', 'https://lichess.org/training/0JPsp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JQKs', 'Rapid', 'Valko_V74', 1639, 'ArchangelV', 1627, 'e4,b6,Nf3,Bb7,d4,Bxe4,c4,Bxf3,Qxf3,c6,d5,cxd5,cxd5,Nf6,d6,Nc6,dxe7,Bxe7,Bb5,Bb4+,Bd2,Qe7+,Kd1,Bxd2,Nxd2,Rc8,Re1,Ne5,Qb7,O-O,Qxa7,Qc5,Qa4,Ra8,Qb3,Rfe8,f4,Neg4,Rxe8+,Rxe8,Rc1,Qg1+,Kc2,Ne3+,Kb1,Qf2,Nf3,Qxg2,Ne5,Qe4+,Bd3,Qxf4,Nc4,Nxc4,Bxc4,Qe4+,Ka1,d5,Bd3,Qe1', 'Rxe1,Rxe1+,Bb1', 'https://lichess.org/training/0JQKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JQXt', 'Classical', 'matixelo', 1726, 'AlMahmoud', 1719, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bb4,a3,Bxc3+,bxc3,Nc6,c4,Be6,cxd5,Nxd5,c4,Nc3,Qd3,Na4,d5,Nc5,Qe3,Qf6,dxe6,Qxa1,exf7+,Kxf7,Qf4+,Qf6,Qxc7+,Kg8,Be3,Qc3+,Nd2,Nd3+', 'Bxd3,Qxd3,Qxb7,Rd8,Qxc6', 'https://lichess.org/training/0JQXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0jRZJ', 'Rapid', 'Sergei30', 1700, 'efeequis', 1773, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,Nxe5,Nxe5,Bxf7+,Kxf7,d4,Bb4,dxe5,Bxc3+,bxc3,Ne8,Qh5+,g6,Qf3+,Kg7,Qh3,Rg8', 'Qh6+,Kh8,Bg5,Qxg5,Qxg5', 'https://lichess.org/training/0jRZJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JVNs', 'Rapid', 'josemariagomez', 2107, 'MSSAAD', 1898, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Qd5,Qe7,Nc3,a5,a3,O-O,h3,Ngxe5,Nxe5,Nxe5,Ne4,Bb6,b3,d6,Be2,c6,Qd1,Re8,Ng3,Be6,Bb2,Ng6,O-O,Rad8,Qc2,Qh4,Qc3,f6,Bf3,Ne5,Be2,Bxh3,gxh3,Qxh3,Rad1,Ng4,Bxg4,Qxg4,Kg2,h5,f3,Qg5,Kh3,Bxe3,Qd3,h4,Nf5,Qf4,Bc1,Bxc1,Rxc1,g5,Rg1,d5,c5,Re5,Nh6+,Kg7,Ng4,Re7,Rcf1,f5,Nh2,Rde8,Rg2,Re2,Rfg1,Rxg2,Rxg2,Re3,Qd1,Kh6,Qa1,g4+,Kxh4,gxf3+,Ng4+,fxg4', 'Qh8+,Kg6,Rxg4+', 'https://lichess.org/training/0JVNs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JvOv', 'Rapid', 'BLUESTAR26', 1921, 'asbahr', 1858, 'e4,d5,exd5,c6,dxc6,Nxc6,Bb5,Bd7,Nf3,a6,Ba4,e6,d4,Qa5+,Nc3,Bb4,Bxc6,Bxc3+,bxc3,Qxc3+,Bd2,Qxc6,O-O,Nf6,Ne5,Qd5,Nxd7,Qxd7,Bb4,O-O-O,c3,Nd5,Rc1,h5,Qb3,h4,h3,g5,c4,Nxb4,Qxb4,Qxd4,Rfd1,Qf4,Qc5+,Kb8,Qe7,Rxd1+,Rxd1,Rc8,Rd7,Rc7,Qd8+,Rc8,Qb6,Qe4,Rxf7,Rxc4', 'Rf8+,Rc8,Qd6+,Ka7,Rxc8', 'https://lichess.org/training/0JvOv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0jWnq', 'Rapid', 'Ugo_Fantozzi', 1773, 'dule78', 1779, 'c4,c6,d4,d5,Nc3,e6,Bf4,Nd7,e3,Ngf6,Bd3,a6,a3,b5,c5,Be7,Nf3,Nh5,Bg3,Nxg3,hxg3,h6,Ne2,Nf6,a4,Qa5+,Nc3,b4,Ne5,bxc3,Nxc6,Qc7,Nxe7,cxb2,Rb1,Qxe7,Rxb2,O-O,Rb6,Ne4,O-O,Qc7,Qc2,Rd8,Bxe4,dxe4,Qxe4,Rd5,Rfb1,a5,Qc2,e5,Qb2,exd4,exd4,Bf5,Rb7,Qd8,c6,Bxb1', 'c7,Qf8,Rb8', 'https://lichess.org/training/0jWnq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JXDZ', 'Classical', 'maaac2020', 1846, 'FGordon', 1860, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,Bd6,e3,Bxf4,exf4,O-O,Nf3,b6,cxd5,exd5,Bd3,Re8+,Ne2,Bg4,Ne5,Bxe2,Qxe2,a6,O-O,Nc6,Rad1,Nxd4,Bxh7+,Nxh7,Rxd4,f6,Qh5,fxe5,fxe5,Qg5,Qf3,Rxe5,Rfd1,c6,h4,Qe7,h5,Rf8,Qg3,Rxh5,Rg4,Qe5,f4,Qf5,Rf1,Qf6,Rg6,Qd4+,Rf2,Qd1+,Rf1,Rh1+,Kxh1,Qxf1+,Kh2,Qxf4', 'Rxg7+,Kh8,Rg8+,Rxg8,Qxf4', 'https://lichess.org/training/0JXDZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0JZ3N', 'Classical', 'Hubbabubah1104', 1901, 'sashaTsi', 1642, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bc4,Be6,Bxe6,fxe6,O-O,Bd6,Nc3,a6,Bg5+,Nf6,Rad1,h6,Bh4,Ke8,Bg3,Kf7,f4,exf4,Bxf4,Bxf4,Rxf4,Ke7,e5,Nd7,Rg4,g5,Re4,Rhf8,Ne2,Rf5,Ng3,Rxe5', 'Rxd7+,Kxd7,Rxe5', 'https://lichess.org/training/0JZ3N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Jz8X', 'Rapid', 'Xmoppet', 1612, 'dsjoerg', 1628, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,c6,Nf3,d6,Ng5,d5,exd5,cxd5,Bb3,h6,Nf3,Nc6,Ba4,Nd7,Bxc6,bxc6,a4,O-O,O-O,Re8,c3,Ba6,b4,Bd6,Nh2,e4,Qg4,Bxd3,Bxh6,Be5,Re1,Re6,Bd2,Nf6,Qd1,Qd6,Ng4,Nxg4,Qxg4,Rg6,Qd1,Qe6,Kh1,Qf5,Na3,Qxf2,Rg1,e3,Be1,Rxg2,Bxf2', 'Rh2#', 'https://lichess.org/training/0Jz8X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0K2CK', 'Rapid', 't56', 1938, 'Forgae', 1915, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,d5,exd5,Nxd5,Qxd4,c6,O-O,Qf6,Qe4+,Be7,Bxd5,cxd5,Qxd5,O-O,Nc3,Nc6,Re1,Nb4,Bg5,Nxd5,Bxf6,Bxf6,Nxd5,Bxb2,Rab1,Be6', 'Ne7+,Kh8,Rxb2', 'https://lichess.org/training/0K2CK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0k2OD', 'Rapid', 'Kardo100', 1614, 'banksy200', 1515, 'e4,d5,exd5,Qxd5,Nc3,Qa5,g3,e5,Bg2,c6,Nh3,h6,O-O,f6,d3,h5,Re1,Bg4,Bf3,Nh6,d4,Bd6,Bxh6,Rxh6,Bxg4,hxg4,Qxg4,Kf7,Ne4,Bb4,c3,Nd7,cxb4,Qd5,dxe5,Nxe5,Qf5,Rxh3,Ng5+,Ke7,Nxh3,Kd6,Nf4', 'Nf3+,Kh1,Qxf5,Rad1+,Kc7,Re7+,Kb6', 'https://lichess.org/training/0k2OD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0k8EA', 'Blitz', 'Insomnie', 1700, 'Sinyor-Alliqator', 1715, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Nf3,c5,Bd3,Nc6,dxc5,Bxc5,Bxf5,exf5,O-O,Nge7,Bg5,O-O,Nxd5,Re8,Nxe7+,Bxe7,Qxd8,Raxd8,Bxe7,Rxe7,Rad1,Rxd1,Rxd1,g6,Rd5,Re8,c3,Rd8,Rxd8+,Nxd8,Kf1,Kf8,Ke2,Ke7,Kd3,Ke6,b4,Nc6,Nd4+,Kxe5,Nxc6+,bxc6,Kc4,f6,Kc5,f4,Kxc6,f5,c4,Ke4,b5,f3,g3,Kd3,Kd5,Ke2,c5,Kxf2,c6,Kg2,c7,f2,c8=Q,f1=Q,Qc2+,Kh3,a4,Qh1+,Ke5,Qb7,Qd3,Qe7+,Kf4,Qb4+,Kg5,Qg4+,Kf6,Qxa4,g4+,Kxg4', 'Qg3+,Kh5,Qg5#', 'https://lichess.org/training/0k8EA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0kAyl', 'Blitz', 'lb34', 2004, 'Naedo', 1990, 'e4,d6,Nc3,Nd7,Nf3,e5,d4,Be7,Bd3,Ngf6,dxe5,Nxe5,Nxe5,dxe5,O-O,O-O,f4,exf4,Bxf4,c6,e5,Nd5,Nxd5,Qxd5,Qh5,g6,Qe2,Qd4+,Kh1,Be6,c3,Qb6,b3,Rfd8,Bc4,Bxc4,Qxc4,Qc5,Qxc5,Bxc5,Bg5,Re8,Bf6,Be7,Rad1,Bxf6,exf6,Rad8,Rde1,Rxe1,Rxe1,h5,h3,Rd7,Re7,Rd1+,Kh2,Rd6,Rxb7,Rxf6,Rxa7,Kg7,a4,Rd6,b4,Rd3,c4,Rb3,b5,cxb5,cxb5,Kf6,Ra6+,Kf5,b6,g5,a5,g4,Ra7', 'g3+,Kg1,Rb1#', 'https://lichess.org/training/0kAyl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Kftt', 'Blitz', 'mLed16', 2360, 'FM supercute', 2383, 'c4,c5,Nc3,e6,Nf3,d5,cxd5,exd5,d4,Nc6,g3,Nf6,Bg2,cxd4,Nxd4,Bc5,Nxc6,bxc6,O-O,O-O,b3,Bb6,Na4,Re8,Bb2,Ne4,e3,Bd7,Rc1,Qg5,a3,Rad8,Nxb6,axb6,Qd4,c5,Qd3,Bf5,Qb5,Re6,Rfd1,h5,a4,c4,bxc4,Nxf2,Kxf2,Qxe3+,Kf1,Bd3+,Rxd3,Qxd3+,Kg1,Re2,Qxb6,Rde8,Qd4', 'Re1+,Rxe1,Rxe1+,Kf2,Qe2#', 'https://lichess.org/training/0Kftt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0kgIy', 'Rapid', 'Qamardeen', 1829, 'foobarqux', 1823, 'e4,e5,Nf3,f5,exf5,Bc5,Nxe5,Bxf2+,Kxf2,Qh4+,g3,Qd4+,Kg2,Qxe5,Bd3,Qd5+,Qf3,Qxf3+,Kxf3,Nc6,Re1+,Nge7,Nc3,O-O,g4,b6,Bc4+,Kh8,d4,Nxd4+,Kg3,Nxc2,Rxe7,Nxa1,Bd3,c5,b3,Rd8,Bb2,d5,Bxa1,d4,Ne4,g6,fxg6,hxg6,Nf2,Kg8,Bxg6,Ba6,Bb2,d3,Re1,d2,Rd1,Be2,Bf6,Rd6,Be4,Rxf6,Bxa8,Bxd1,Nxd1,Rf1,Bd5+,Kg7,Bf3,Kf6,h4,Kg6,Kf4,b5,h5+,Kh6,g5+,Kg7,h6+,Kg6,Kg4,Rg1+,Kf4,Rxg5,Ke3,Kxh6,Kxd2,Kg6,Ne3,Kf6,Kd3,Rg3,Ke4,Kg5,Nd5,a5,Nc7,c4,bxc4,bxc4,Ne6+,Kf6,Nf4,c3', 'Nh5+,Ke7,Nxg3', 'https://lichess.org/training/0kgIy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0kgqY', 'Blitz', 'TicTacBlitz', 2238, 'CM sodabread', 2239, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,Be7,d4,b6,Bb5+,Bd7,Bd3,Bc6,O-O,Nd7,c4,Ngf6,Nxf6+,Nxf6,Bc2,O-O,Ne5,Bb7,Be3,a6,Qd3,c5,Ng4,g6,Nxf6+,Bxf6,dxc5,Qxd3,Bxd3,bxc5,Bxc5,Rfc8,Be3,Rd8,Be2,Be4,Rad1,Bxb2,Bb6,Rdb8,c5,Ba3,Rd4,Bd5,Bc4,Bxc4,Rxc4,Rc8,Rd1,Rc6,Rd3,Bb2,Rd6,Rac8,Kf1', 'Rxd6,cxd6,Rxc4', 'https://lichess.org/training/0kgqY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0kHat', 'Rapid', 'Gennadiy0209', 1778, 'nbchdnzzr', 1698, 'e4,e5,Nf3,d6,Bc4,Nc6,Nc3,Bg4,h3,Bh5,d3,Nf6,Bg5,h6,Bh4,g5,Bg3,Nd4,h4,Nxf3+,gxf3,Be7,hxg5,hxg5,Qe2,Qd7,O-O-O,O-O-O,Bb5,c6,Bc4,d5,exd5,Nxd5,Nxd5,cxd5,Bb3,f6,d4,Qf5,dxe5', 'Bxf3,Rxh8,Bxe2', 'https://lichess.org/training/0kHat');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0khIn', 'Rapid', 'teamingwithlife', 2100, 'karimfl', 1988, 'e4,Nc6,d4,d5,e5,f6,f4,Bf5,Bd3,Qd7,c3,Nh6,h3,e6,g4,Bxd3,Qxd3,Be7,Nf3,O-O,O-O,fxe5,fxe5,Rf7,Bxh6,gxh6,Nbd2,Raf8,Nh2,Bg5,Rxf7,Rxf7,Rf1,Rxf1+,Kxf1,Qf7+,Kg2,a6,Nhf3,Be7,b4,Nb8,Kg3,Nd7,h4,b5,a4,c6,a5,Nf8,h5,Bg5,Nb3,Bf4+,Kh3,Kg7,Nc5,Qa7,Nh4,Bc1,Qf3,Bg5,Ng2,Be7,Nd3,Nd7,Ngf4,Nf8,Kg3,Qc7,Nf2,Qa7,Qd3,Kf7,N2h3,Kg7,Qc2,Bxb4,cxb4,Qxd4,Qxc6,Qe3+,Kh4', 'Qe1+,Nf2,Qxf2+', 'https://lichess.org/training/0khIn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0KIHp', 'Rapid', 'Skochko2009', 1691, 'AvramenkoEven', 1650, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,O-O,Nf6,Nc3,c6,d3,d5,exd5,cxd5,Bb3,d4,Ba4+,Nc6,Re1,dxc3,bxc3,Bd6,Bg5,h6,Bh4,O-O,d4,exd4,cxd4,g5,Bg3,Bxg3,fxg3,Bxf3,Qxf3,Kg7,Rad1,Re8,Bxc6,Rxe1+,Rxe1,bxc6,Qxc6,Qxd4+,Kh2,Rd8,Rf1,Rd6,Qc8,Qe5,c4,Ne4,Rf3,Qc5,Qe8,Qxc4,a4,Nf6,Qe5,Qe6,Qc5,g4,hxg4,Nxg4+,Kg1,Ra6,Qd4+,Nf6,Kh2,Qa2,Rf4,Kg6', 'Qd3+,Kg7,Qxa6', 'https://lichess.org/training/0KIHp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0kjCh', 'Blitz', 'saudiarabiaN1', 1544, 'dzhangarnnn', 1544, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,e5,Nh5,Be2,g6,Bxh5,gxh5,e6,f6,Qd5,Bg7', 'Qxh5+,Kf8,Qf7#', 'https://lichess.org/training/0kjCh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0kKTm', 'Blitz', 'giancarlo1209', 1890, 'nicolasvasr1', 1870, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Nf3,Bd6,Bd3,O-O,O-O,Re8,Nb5,Be7,c4,c6,Nc3,Bg4,cxd5,cxd5,h3,Bh5,g4,Bg6,Bxg6,hxg6,Qb3,b6,Ne5,Qd6,g5,Nh5,Nxd5,Na6,Nf6+,gxf6', 'Qxf7+,Kh8,Nxg6#', 'https://lichess.org/training/0kKTm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0kLi9', 'Rapid', 'StegaruMircea', 1738, 'Johankwok', 1733, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,a4,Bb4,Qf3,Qa5,Bd3,Bxc3+,Kf1,Bd4,c3,Bb6,g3,Ba6', 'b4,Qd5,exd5', 'https://lichess.org/training/0kLi9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0KMB2', 'Classical', 'Berong', 1910, 'Czeslaw62', 1798, 'd4,Nf6,Bg5,e6,e4,Be7,Bxf6,Bxf6,Nf3,d6,Bd3,Nc6,c3,O-O,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,f4,Bf6,Qf3,c6,Nd2,Qb6+,Rf2,Qxb2,Rb1,Qxc3,e5,g6,Ne4,Qa3,Nxf6+,Kg7,Nxh7,Rd8,Ng5,d5,Nxf7,Rf8,Qg3,Rxf7,Qxg6+,Kf8,e6,Bxe6,Qh6+,Kg8,Bh7+,Rxh7,Qxe6+,Kh8,f5,Qe7,Re1,Re8,Rfe2', 'Qc5+,Kh1,Rxe6', 'https://lichess.org/training/0KMB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0KMKj', 'Blitz', 'tarse22', 1771, 'valmy', 1851, 'e4,e5,Bc4,Nf6,Nc3,Bc5,d3,h6,Nge2,Nc6,O-O,d6,a3,O-O,b4,Bd4,Be3,Bxc3,Nxc3,Ne7,Qd2,Ng6,f4,exf4,Bxf4,Ne5,Bxe5,dxe5,h3,Qe7,Nd5,Nxd5,Bxd5,c6,Bb3,Be6,Bxe6,Qxe6,Rf5,Rad8,Raf1,Kh8,g4,f6,h4,Rd7,g5,hxg5,hxg5,Qf7,R1f2,Kg8,Qe3,Rfd8,gxf6,gxf6,Qh6,Qh7,Rg2+,Rg7,Rxg7+,Qxg7+,Qxg7+,Kxg7,Kf2,Rh8,Kg2,Rh4,Rf3,Kf7,c4,Rh8,Rh3,Rg8+,Kf3,Rg7,Rh8,Ke6,Re8+,Re7,Rxe7+,Kxe7,Kg4,Ke6,c5,b6', 'cxb6,axb6,a4,b5,a5', 'https://lichess.org/training/0KMKj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0KP3N', 'Blitz', 'TickStyle', 2017, 'mattongo', 2138, 'e4,e5,f4,exf4,Nf3,d5,exd5,Nf6,Bc4,Bd6,d4,O-O,O-O,Re8,Nc3,Bg4,Nb5,Ne4,Nxd6,Nxd6,Bb3,g5,c4,Nd7,c5,Ne4,Bc2,Ndf6,h4,Qxd5,hxg5,Nxg5,Bxf4,Nxf3+,gxf3,Bh3,Rf2,Rad8,Be5,Rxe5,dxe5,Qxe5,Qxd8+,Kg7,f4,Qh5,Qd4,Qg4+,Kh2,Qh4,Rg1+', 'Bg4+,Kg2,Qh3#', 'https://lichess.org/training/0KP3N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Kr9K', 'Classical', 'scrabblechamp', 1665, 'xthecomedianx', 1869, 'e4,e5,Nf3,d6,Bc4,c6,O-O,Be7,d4,Nd7,Re1,Ngf6,dxe5,Nxe5,Nxe5,dxe5,Nc3,O-O,Bg5,h6,Bxf6,Bxf6,Qh5,Qd7,Rad1,Qg4,Qxg4,Bxg4,f3,Be6,Bxe6,fxe6,Rd7,Rfd8,Red1,Rxd7,Rxd7,Rd8,Rxb7,Bg5,Rxa7', 'Be3+,Kf1,Bxa7', 'https://lichess.org/training/0Kr9K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0kSxL', 'Rapid', 'tobiasalen', 961, 'AYYY123', 959, 'd4,d5,e3,c6,Qh5,g6,Qe5,f6,Qg3,Qd6,Qxd6,exd6,f4,g5,fxg5,fxg5,Nf3,h6,c4,Be6,Nfd2,dxc4,Nxc4,d5,Nd6+,Kd7,Nxb7,a5,Nc5+,Bxc5,dxc5,Na6,Be2,Nxc5,O-O,Ne7,Nc3,Rhf8,Rxf8,Rxf8,e4,dxe4,Be3,Kd6,a3,Nd5,Nxe4+,Nxe4,Bf3,Bf5,b4,Nxe3,bxa5,Nd2,a6,Nxf3+,gxf3,c5,Rb1,c4,a7,Kd5', 'Rb8,Rxb8,axb8=Q', 'https://lichess.org/training/0kSxL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0KTA2', 'Rapid', 'NivMizz', 1900, 'orlandov1', 1935, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,e6,O-O,Be7,d4,O-O,Re1,a6,Bg5,b5,Bd3,Bb7,Bxf6,Bxf6,Be4,Nc6,d5,exd5,Nxd5,Bxb2,Rb1,Bf6,Nxf6+,Qxf6,Qd7,Rac8,Bxc6,Bxc6,Qg4,h6,Nd4,Ba8,Nf5,c5', 'Ne7+,Kh7,Nxc8', 'https://lichess.org/training/0KTA2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0KUD0', 'Classical', 'SravanJith', 1652, 'Gena888', 1799, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Nxd4,Be7,Nc3,c6,O-O,Bf6,Re1,Ne7,Bf4,O-O,e5,dxe5,Bxe5,Bxe5,Rxe5,Ng6,Re4,Qg5,Nf3,Qf6,Qd2,Bf5,Re3,Nh4,Nxh4,Qxh4,Rg3,Qxc4,Qxh6,g6,Rg5,Qd4,Rd1,Qg7,Qh4,Na6,Rd4,Rae8,h3,Qh7,Qg3,Nc5,Rxf5,Qg7,Rh4,gxf5,Qf3,Ne6,Qxf5,Qg6', 'Rg4,Ng7,Rxg6', 'https://lichess.org/training/0KUD0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0KWOB', 'Rapid', 'iamdudum', 1791, 'Eichelober', 1616, 'b4,e5,Bb2,d6,c4,Nf6,Nc3,Bf5,Nf3,Be7,d3,O-O,e4,Be6,Be2,Nbd7,O-O,Rc8,a4,b6,h3,Nb8,d4,exd4,Nxd4,c5,Nxe6,fxe6,b5,Qc7,g4,e5,g5,Ne8,Nd5,Qb7,Bg4,Rd8,h4,Nc7,Nxe7+,Kh8,Nf5,Qxe4,Ng3,Qxc4,Ra3,Rf4,f3,Rdf8,Rc3,Qf7,Rd3,Ne6,Rxd6,Nd4,Bxd4,exd4,Ne4,Qe7,Re6,Qc7,Kg2,Nd7,Re1,Ne5,Qe2,Nxg4,fxg4,Qd7,Rd6,Rxg4+,Kh2,Rxe4', 'Rxd7,Rxe2+,Rxe2', 'https://lichess.org/training/0KWOB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0kYci', 'Rapid', 'spezeffekt', 2100, 'DVRazor', 2229, 'e4,c5,Nc3,d6,f4,Nc6,Nf3,g6,d3,Bg7,h3,e6,g4,d5,Bd2,dxe4,dxe4,Nd4,Bg2,Nxf3+,Qxf3,Bd4,O-O-O,Qb6,f5,Ne7,Rhf1,O-O,Bh6,Bd7,Bxf8,Rxf8,f6,Nc6,Qf4,Kh8,Qh6,Rg8,g5,Ne5,Rf4', 'Be3+,Kb1,Bxf4', 'https://lichess.org/training/0kYci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0kyDW', 'Classical', 'anand1973', 1771, 'alex2111', 1842, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,Bf5,e3,e6,c5,Be7,Bd3,Bxd3,Qxd3,Nbd7,Nf3,O-O,h4,b6,cxb6,axb6,a3,c5,dxc5,bxc5,Qd2,Qb6,O-O,c4,Rfe1,Rfe8,e4,Nc5,Qd4,Ncd7,Qxb6,Nxb6,exd5,Nbxd5,Be5,Nxc3,Bxc3,Nd5,Bd4,Bf6,Bxf6,Nxf6,Rec1,Rec8,Nd2,c3,bxc3,Ra4,c4,Rca8,Rc3,Nd7,g3,Ne5,c5,Nc6,Nc4,R8a6,Nb6,Re4,a4,Nd4,Kg2,Nc6,Nc4,Kf8,Kf3', 'Rxc4,Rxc4,Ne5+,Ke4,Nxc4', 'https://lichess.org/training/0kyDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0kz34', 'Rapid', 'kalistayolo', 1652, 'MarcosCapablanca', 1660, 'e4,e5,d4,exd4,c3,Nc6,cxd4,d5,Nc3,dxe4,d5,Ne5,Nxe4,Nf6,Bg5,Qxd5', 'Nxf6+,gxf6,Qxd5', 'https://lichess.org/training/0kz34');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0l1jB', 'Rapid', 'Bucephalus23', 2203, 'JacobBoehme', 2147, 'c4,e5,g3,Nc6,Nc3,f5,Bg2,Nf6,d3,Bb4,Bd2,O-O,Rc1,d6,e3,Qe8,Nge2,g5,O-O,f4,exf4,gxf4,Nd5,Nxd5,Bxd5+,Be6,Bxc6,bxc6,Bxb4,f3,Nc3,Qh5,Kh1,Qh3,Rg1,Rf5,Qf1', 'Qxh2+,Kxh2,Rh5+,Qh3,Rxh3#', 'https://lichess.org/training/0l1jB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0l2ab', 'Rapid', 'Bahubali99', 1734, 'ninetyfourclippers', 1635, 'g3,e5,Bg2,Nc6,b3,Bc5,Bb2,d6,Nh3,h6,Qc1,Qf6,f4,Nge7,Rf1,Bf5,fxe5,dxe5,g4,Qh4+,Kd1,Bxg4,Ng1,Qxh2,Bf3,Bxf3,Nxf3,Qg2,Re1,Bf2,d3,Bxe1,Nxe1,Qg1,Nc3,O-O,Ne4,Rad8,Bc3,Nf5,Qb2,Ne3+,Kc1,Nd4,Kd2,Qh2,Bxd4,exd4,Nf3,Qf4,Ke1,Ng2+,Kf2,Ne3,Rg1,Rd5,Ke1,Rh5,Nxd4,Rh2,Nf3,Rg2,Rh1,Re8,Rh4,Qxh4+,Nxh4,Rg1+,Kf2', 'Nd1+,Kxg1,Nxb2', 'https://lichess.org/training/0l2ab');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0l3VX', 'Rapid', 'Paolo1988', 1947, 'RicardoPiedra', 1985, 'd4,e6,Bf4,Nf6,Nf3,c5,e3,Nc6,c3,Be7,Nbd2,O-O,Bd3,b6,Ne5,Bb7,h4,d6,Nef3,Nh5,Bxh7+,Kxh7,Ng5+,Bxg5,hxg5,g6,g4,Nxd4,Rh2,e5,gxh5,exf4', 'hxg6+,Kg7,Rh7+,Kxg6,Qh5+', 'https://lichess.org/training/0l3VX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0l43J', 'Rapid', 'Arushok', 1790, 'tpsy', 1735, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nc3,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,h3,O-O,O-O,Qb6,Nb5,Nb4,Nxd6,Nxd3', 'Nxc8,Rfxc8,Qxd3', 'https://lichess.org/training/0l43J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0L701', 'Rapid', 'Alaazeneddin', 1671, 'berenjenal', 1669, 'e4,c5,Bc4,e6,Nf3,Nc6,d3,Nf6,Nc3,Be7,Bf4,d5,exd5,Nxd5,Nxd5,exd5,Bb5', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/0L701');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Lbzo', 'Blitz', 'SnapMouse', 2381, 'NM CaptainPlanet', 2427, 'd4,d5,c4,dxc4,e3,c5,Bxc4,cxd4,Nf3,Qc7,Qxd4,Nc6,Qc3,Nf6,O-O,Bg4,Nd4,e6,Bb5,Rc8,Nxc6,bxc6,Ba6,Rb8,Na3,Bd6,h3,h5,Nc4,Bh2+,Kh1,Bf5,b3,c5,Bb2,Qc6,Kxh2,Qxa6,Qe5,O-O,Rfd1,Rb7,Qxc5,Rb5,Qd4,Rd5,Qc3,Rfd8,Rxd5,exd5,Ne5,Qe2,Kg1', 'Ne4,Qe1,Qxb2', 'https://lichess.org/training/0Lbzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0lCMd', 'Classical', 'papillons', 1681, 'sledge', 1709, 'e4,e5,d3,Nf6,Nf3,d6,Nc3,c6,b3,Be7,Bd2,Na6,a3,Nc5,Na2,Qb6,Bb4,O-O,h3,a5,Bd2,Ncd7,Nc3,d5,Na4,Qc7,exd5,Nxd5,g3,N7b6,Nb2,Bd6,c4,Nf6,Bg2,e4,Nd4,exd3,Nxd3,Bd7,c5,Be5,Bc3,Nbd5,Bxd5,Nxd5,Bb2,Rae8,Kf1,Qc8,Kg2,Be6', 'Nxe5,Bxh3+,Rxh3', 'https://lichess.org/training/0lCMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0LDco', 'Rapid', 'kh00', 1739, 'Helge12345', 1662, 'e4,e5,Nf3,d6,Bc4,h6,Nxe5,dxe5,O-O,Nf6,d4,exd4,c3,Be7,cxd4,a6,e5,Nd5,Qf3,c6,Nc3,Be6,Qg3,Bg5,f4,Bh4', 'Qxg7,Bf6,exf6', 'https://lichess.org/training/0LDco');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0lEmz', 'Rapid', 'yonioliel', 1685, 'malcomar', 1628, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nb4,Qe4,c6,a3,b5,Bb3,Na6,d4,Bb7,O-O,Nc7,Qxe5+,Kd7,Qf5+,Ne6,Re1,Qf6,Qg4,h5,Qh3,Rh6,Bxh6,Qxh6,Bxd5,cxd5,Nxb5,a6,Nc3,Re8,Re5,Qd2,Rae1,Qh6,Rxh5,Qd2,Rhe5,Kc7,Rxe6', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/0lEmz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0LgNs', 'Blitz', 'davidovich_vitaliy', 1793, 'kozlovslava', 1659, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Be3,Nc6,Bb5,O-O,O-O,Qb6,Bxc6,Qxc6,Rc1,Rd8,e5,cxd4,cxd4,Qd5,Rc5,Qxa2,Qc1,Be6,Rc7,Rac8,h3,b5,Ng5,a5,Nxe6,Qxe6,Qc5,Qc4,Qxc4,bxc4,Rxe7,c3,Rc1,Rd5,Rb7,a4,Rb4,Ra5,Ra1,a3,Rb3,a2,Kf1,c2,Bc1,Rc4,Be3,c1=Q+,Bxc1,Rxc1+,Rxc1,a1=Q,Rxa1,Rxa1+,Ke2,Kf8,Rb7,Ra3,f4,Bh6,d5,Ra5,d6,Ra8,Kf3,Ke8,g4,Rd8,h4,Rd7,Rb8+,Rd8,Rb7,Bg7,f5,Bxe5,fxg6,hxg6,h5,gxh5,gxh5,Rxd6,Ke4,Bg3,Kf5,Kf8,Kg4,Be5,Kf5,Bh2,Kg5,Kg8,Kf5,f6,Kg6,Bf4', 'Rb8+,Rd8,Rxd8#', 'https://lichess.org/training/0LgNs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0LhCW', 'Bullet', 'Iwanowich33', 1942, 'ebrahim2018', 2103, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,h3,Be7,Bd3,O-O,O-O,c5,c4,Be6,cxd5,Bxd5,Nc3,Nxc3,bxc3,cxd4,cxd4,Nc6,Be3,Bf6,Bc2,Bxf3,Qxf3,Nxd4,Bxd4,Qxd4,Rad1,Qb6,Rb1,Qd6,Rxb7,Rab8,Rxb8,Rxb8,Rd1,Qe7,Qf4,Rd8,Rb1,g6,Bb3,Rd4,Qf3,Re4,Kh2,Kg7,Rd1,Qe5+,g3,Rd4,Rxd4,Qxd4,h4,Be5,Kg2,f6,g4,Bd6,g5,fxg5,hxg5,Qe5', 'Qf7+,Kh8,Qg8#', 'https://lichess.org/training/0LhCW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Lhda', 'Rapid', 'ahmadyehia', 1656, 'sethhoward', 1794, 'd4,d5,Bf4,Nc6,e3,Nf6,Bb5,a6,Bxc6+,bxc6,Nf3,Bg4,h3,Bxf3,Qxf3,Qd7,O-O,h6,Nc3,e6,Na4,g5,Be5,g4,Qxf6,Rg8,Nc5,Bxc5,dxc5,gxh3,g3,Rc8,Kh2,Rg6,Qh8+,Ke7,Qh7,Rcg8,e4,Ke8,exd5', 'Qxd5,Rg1,Qxe5', 'https://lichess.org/training/0Lhda');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0LJZh', 'Classical', 'interneb', 1615, 'janzupancic', 1778, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,Be7,d3,Nf6,O-O,O-O,Be3,Nc6,a3,a6,Qd2,b5,Ba2,Bb7,Ne2,Qc7,b4,Rad8,Qc3,Ng4,Bg5,d5,Ng3,d4,Qd2,Nce5,Bxe7,Qxe7,Nxe5,Nxe5,f4,Nc6,f5,c4,dxc4,bxc4,Bxc4,Ne5,Bb3,d3,c3,Qh4,Qf4,Ng4,Nh1,Bxe4,Nf2,Bxf5,h3,g5,Qf3,Nxf2,Rxf2,Be4,Qg4,Qxg4,hxg4,Rd7,Rd2,Kg7,Re1,Bb7,Kf2,Re8', 'Ba4,Rc8,Bxd7', 'https://lichess.org/training/0LJZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0lk9U', 'Blitz', 'IM GNBuckley', 2398, 'elcondorprasa', 2335, 'e4,d5,exd5,Nf6,Nf3,Qxd5,d4,Bg4,Be2,Nc6,O-O,O-O-O,Nc3,Qh5,h3,Bxf3,Bxf3,Qh4,Bxc6,bxc6,Qf3,Kb7,Bf4,e6,Bg3,Qh5,Qd3,Nd5,Rad1,Bd6,Ne4,Qg6,Qb3+,Ka8,Nxd6,cxd6,Qa4,Ne7,Rd3,Rd7,Ra3,d5,Rd1,Rc8,Rdd3,Nf5,Bh2,Qg5,f4,Qf6,c3,Nd6,Rf3,Nc4,Qa6,Rb7,Rb3,Qe7,Rf2,c5,f5,cxd4,cxd4,Qd7,Rxb7,Qxb7,Qxb7+,Kxb7,fxe6,fxe6,Rf7+,Ka6,b3,Nd6,Rxg7,Nf5,Rxh7,Nxd4,Re7,Rc1+,Kf2,Rc2+,Ke1,Rxg2,Bd6,Nf3+,Kd1,Rxa2,Rxe6,Kb7,Rf6,Nd4,Bc5', 'Ra1+,Kd2,Nxb3+,Kc3,Nxc5', 'https://lichess.org/training/0lk9U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0LksK', 'Blitz', 'GM Barracudych86', 2590, 'Nurbol_23_10', 2191, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,c6,Nf3,Bg4,Be3,Nf6,h3,Bxf3,Qxf3,e6,O-O-O,Nbd7,Kb1,Qb4,a3,Qa5,Bd2,Qc7,Bc4,O-O-O,g4,Nb6,Bb3,h6,h4,Rxd4,g5,hxg5,hxg5,Rxh1,Qxh1,Ng4,Qh8,Rd8,Bf4,Rxd1+,Nxd1,Qd8,Ne3,Nxf2,g6,Nd5,Nxd5,exd5,gxf7,Qe7,Qg8,Ne4,c4,Nf6,cxd5,cxd5,Ka2,a6,Bg5,Kd7,Bxf6,gxf6,Bxd5,b5,Qg4+,Kc7,Qd4,Qd6,Qa7+,Kd8,Qa8+,Ke7', 'Qe8#', 'https://lichess.org/training/0LksK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0LmWt', 'Rapid', 'Gen1962', 1807, 'cookiechip', 1827, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,e6,c3,a6,Ne5,Bxe2,Qxe2,Nc6,Bf4,Bd6,Qh5,Bxe5,Bxe5,Nxe5,Qxe5,Nf6,O-O,O-O,Nd2,b5,f3,h6,g4,Nh7,Nb3,Qh4,Nc5,Ng5,Kh1,Qh3,Qg3,Ra7,Nd3,a5,Rg1,Rb8,Nf4,Qxg3,Rxg3,b4,h4,bxc3,bxc3,Nh7,g5,hxg5,hxg5,Rb2,g6,Nf8,gxf7+,Kxf7,Rag1,Kf6', 'Nh5+,Ke7,Rxg7+,Kd6,Rxa7', 'https://lichess.org/training/0LmWt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0lnJ0', 'Rapid', 'sop', 2029, 'ninjabongo', 1946, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,a3,Bxc3+,bxc3,Bb7,Nf3,d6,Be2,Nbd7,O-O,e5,d5,e4,Nd2,O-O,Qc2,Qe7,Rb1,Rae8,a4,a5,Nb3,Ne5,Nd4,Ba6,Nb5,Nfg4,h3,Nh6,f3,f5,fxe4,fxe4,Qxe4,Qg5,Rxf8+,Rxf8,Nxc7,Bc8,Ne6,Bxe6,dxe6,Qf6,Rxb6,Qxe6,c5,Rd8,Bc4', 'Qxc4,Qxc4+,Nxc4', 'https://lichess.org/training/0lnJ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0lNT6', 'Rapid', 'leondereforma', 2084, 'CHESSCHAPIN', 2100, 'c4,Nf6,g3,e5,Bg2,Bc5,Nf3,d6,O-O,O-O,Nc3,a6,d3,Be6,Bg5,h6,Bxf6,Qxf6,Ne4,Qe7,Nxc5,dxc5,Nxe5,Qd6,f4,Nd7,Kh1,Nxe5,fxe5,Qxe5,b3,Rab8,Qd2,b5,Rae1,Rfd8,Qa5,Bc8,Bd5,Rxd5,cxd5,Qxd5+,Rf3,Bg4,Qxc7,Bxf3+,exf3,Qxf3+,Kg1,Rf8,Qxc5,Qxd3,Qb6,Qd2,Qf2,Rd8', 'Re8+,Rxe8,Qxd2', 'https://lichess.org/training/0lNT6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0LOIr', 'Rapid', 'METHEBEST', 1845, 'mahadevanr', 1612, 'd4,d5,Nf3,Nc6,e3,Bf5,c4,e6,Nc3,Bb4,Bd2,Nf6,a3,Be7,Be2,O-O,O-O,a6,Qb3,Rb8,cxd5,Nxd5,Nxd5,exd5,Bd3,Bxd3,Qxd3,Bd6,Rac1,Ne7,Rfe1,c6,e4,Re8,e5,Bc7,Ng5,Ng6,Qh3,h6,Nf3,f6,Bxh6,gxh6', 'Qxh6,Qd7,Qxg6+', 'https://lichess.org/training/0LOIr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0LppW', 'Rapid', 'Omar_Q77Q', 1974, 'Janas123', 1915, 'c4,Nf6,Nc3,e6,d4,Be7,e4,d6,Nf3,O-O,Bd3,Nc6,a3,e5,d5,Nb8,O-O,Bg4,h3,Bxf3,Qxf3,Nbd7,Be2,Nc5,b4,Nb3,Rb1,Nd4,Qg3', 'Nxe4,Qd3,Nxc3', 'https://lichess.org/training/0LppW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0lptz', 'Rapid', 'Siemre', 1947, 'algosp', 1912, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,O-O,O-O,d6,b4,Bb6,a4,a6,Na3,Ng6,b5,axb5,axb5,Nce5,Bb3,Ng4,h3,Nxe3,fxe3,Qg5,Qf3,Ne5,Qf4,Qg6,Nc4,Bxh3,g3,Nxc4,Bxc4,Bxf1,Rxf1,Rae8,Bd3,Bxd4,exd4,d5,Qxc7,dxe4,Bb1,Qg5,Qf4,Qxf4,Rxf4,g6,c4,f5,Rf1,Ra8,c5,Rfd8,Rd1,Ra4,d5,Rc4,c6,bxc6,Ba2,Rc2', 'dxc6+,Kg7,Rxd8', 'https://lichess.org/training/0lptz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0LrcM', 'Bullet', 'Jack_90', 1847, 'blackdiamond3', 1886, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bg4,Be2,Bd6,h3,Bh5,Be3,Ne7,Qd2,O-O,Bf4,Re8,Bxd6,Qxd6,O-O,Nbc6,c3,Nd8,Re1,Ne6,Ne5,Bxe2,Rxe2,Ng6,Nxg6,hxg6,Na3,c6,Rae1,Kf8,Nc2,Nf4,Rxe8+,Rxe8,Rxe8+,Kxe8,Qe3+,Kf8,Ne1,g5,Nd3,f6,Nxf4,gxf4,Qd3,Kf7,f3,Qe6,Kf2,g6,Qc2,Qe3+,Kf1,b5,Qe2,Qc1+,Kf2,a5,b3,a4,bxa4,bxa4,Qa6,Qe3+,Kf1,Qxc3,Qb7+,Kg8,Qc8+,Kf7,Qd7+,Kg8,Qe6+,Kg7,Qe7+,Kh6,Qxf6,Qa1+,Kf2,Qxa2+,Kg1,Qb1+,Kh2,Qf5', 'Qh8+,Kg5,h4#', 'https://lichess.org/training/0LrcM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0LXef', 'Rapid', 'verdeckel', 2000, 'alikahi2000', 1981, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,a3,Qb6,Be2,Rc8,O-O,Nge7,b4,cxd4,cxd4,Nf5,Be3,Be7,Nbd2,O-O,Nb3,Nxe3,fxe3,f6,Nc5,Qc7,Nxd7,Qxd7,Bb5,Qc7,Rc1,Qb6,exf6,Bxf6,Bxc6,Rxc6,Qa4,Rfc8,Rxc6,Rxc6,Nd2,Bxd4,exd4,Qxd4+,Rf2,Rc1+,Nf1,h6,Qe8+,Kh7,Qxe6,a6,Qf5+,Kh8,Qf4', 'Rxf1+,Kxf1,Qd1#', 'https://lichess.org/training/0LXef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0lZCp', 'Rapid', 'David-M', 1683, 'Judoman', 1748, 'd4,d5,c4,c6,e4,Nf6,exd5,cxd5,Nc3,dxc4,Bxc4,Bf5,Nf3,e6,O-O,Bb4,Bg5,h6,Bh4,Be7,Ne5,O-O,Qf3,Nc6,Nxc6,bxc6,Qxc6,Rc8,Qb5,Qxd4,Bxf6,Bxf6,Be2,Rc5,Qa4,Qxa4,Nxa4,Ra5,Nc3,Bxc3,bxc3,Rc8,c4,Be4,f3,Ba8,Rfc1,f5,Rc2,e5,Rac1,Rac5,Kf2,e4,fxe4,Bxe4,Rc3,g5,Bf3,Re8,Re3,g4,Bxe4,fxe4,Kg3,h5,Kf4,Rec8,Rxe4,Rf8+,Ke3,Ra5,Rc2,Ra3+,Kd4,Kg7,Re5,Rf4+,Kd5,Ra5+,Ke6', 'Rf6+,Kd7,Rxe5', 'https://lichess.org/training/0lZCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0M0ka', 'Rapid', 'daluwr1', 1645, 'Madom', 1649, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,c5,Bb5,a6,Bxd7+,Bxd7,dxc5,Bxc5,O-O,O-O,a4,b5,axb5,Qb6,Na4,Qa7,Nxc5,Qxc5,bxa6,Rxa6,Rxa6,Nxa6,Be3,Qc7,c3,Rb8,Qd3', 'Bb5,Qb1,Bxf1', 'https://lichess.org/training/0M0ka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0M1Pt', 'Rapid', 'SiggiHD', 1682, 'Tahim36', 1669, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,c3,Nf6,Qe2,d5,exd5,Nxd5,fxe5,Bxf3,Qxf3', 'Qh4+,Qg3,Qxc4', 'https://lichess.org/training/0M1Pt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0M2sr', 'Rapid', 'lapce', 1788, 'eltaureau', 1790, 'c4,c5,Nc3,e6,e3,Nf6,d4,cxd4,exd4,d5,Bf4,Nc6,Nb5,Bb4+,Ke2,O-O,Nc7,Bd6,Bxd6,Qxd6,Nxa8,Bd7,c5,Qf4,Nf3,Rxa8,Ke1,Ng4,Qd2,Qe4+,Be2,e5,dxe5,Ncxe5,Kf1,Nc4,Qc1,Re8,Bxc4,dxc4,h3', 'Qe2+,Kg1,Qxf2#', 'https://lichess.org/training/0M2sr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0m4ro', 'Rapid', 'Black_Panther007', 2264, 'Kopinekomi', 2256, 'Nf3,b6,d4,Bb7,g3,g6,Bg2,Bg7,O-O,Nf6,c4,O-O,Nc3,e6,Re1,d6,e4,Nbd7,d5,e5,b4,a5,b5,Ne8,a4,Qe7,h4,Bc8,h5,f5,Ng5,Nc5,Ne6,Rf7,Bg5,Bf6,Bxf6,Qxf6,Nxc5,bxc5,exf5,Qxf5,hxg6', 'Qxf2+,Kh2,hxg6', 'https://lichess.org/training/0m4ro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0M6Xh', 'Rapid', 'nizamhoca', 1814, 'AthenaBlue', 1633, 'd4,Nf6,e3,g6,Nf3,Bg7,c4,d6,Nc3,c6,Bd2,O-O,Bd3,Nbd7,O-O,e5,Qc2,Re8,Rfe1,a5,Ng5,Nh5,Nge4,Qc7,d5,f5,Ng5,Nc5,Be2,Nf6,a3,a4,Rac1,h6,Nf3,Nfe4,h3,Nxd2,Qxd2,Nb3,Qc2,Nxc1,Rxc1,Bd7,Nxa4,cxd5,Nc3,dxc4,Nd5,Qc5,Bxc4,Be6,Nc7,Bxc4,Nxa8,Bd5,Qxc5,dxc5,Nc7,Rd8,Rxc5,Bxf3,gxf3,Rd2,b4,b6,Rc6,Rd7,Ne6,Ra7,Rxb6,Rxa3,Nxg7,Kxg7,Re6,Rb3,Rb6,h5,Kg2,Kh6,Kg3,Rb1,b5,Rb4,Kg2,Kg5,Rb8,Kh4,b6,g5,b7,Rb1,Kh2,f4,exf4,gxf4,Kg2,Rb6,Kh2,Rb3,Kg2,e4,fxe4,f3+,Kh2,Rb2,Kg1', 'Kxh3,Rd8,Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/0M6Xh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0m8KZ', 'Blitz', 'Daemlack', 1853, 'Rocker1260', 1851, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Qc7,Be2,a6,a3,Nf6,Nc3,Be7,O-O,h5,f4,Ng4,Bxg4,hxg4,Qxg4,g5,Nxc6,bxc6,Rad1,Rb8,b4,a5,Na2,Ba6,Rf2,Bc4,Nc3,axb4,axb4,Rxb4,g3,gxf4,Bxf4,Qb6,Qf3,Bc5,Be3,Bxe3', 'Qxf7+,Kd8,Qxd7#', 'https://lichess.org/training/0m8KZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ma2P', 'Blitz', 'CARRETAS', 1820, 'Lucas_oliva', 1740, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Nxc6,dxc6,Be3,Bd7,Nc3,O-O-O,Bd3,Bb4,O-O,Bd6,Bxa7,b6,Bxb6,cxb6,a4,Kc7,a5,b5,Qe2,Ra8,Rfe1,Nh6', 'e5,Bxe5,Qxe5+,Qxe5,Rxe5', 'https://lichess.org/training/0ma2P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0MaZV', 'Blitz', 'yonjvp', 1793, 'nepaliTopi', 1824, 'e4,e5,Bc4,Nf6,d3,Nc6,Nf3,Bc5,Be3,Bxe3,fxe3,O-O,O-O,d6,Nc3,Be6,Bb3,Na5,Qe2,Nxb3,axb3,a5,d4,exd4,exd4,c6,Rad1,Re8,e5,Nd5,Nxd5,Bxd5,c4,Bxf3,Qxf3,Re7,exd6,Qxd6,Rde1,Qxd4+,Kh1,Rae8', 'Qxf7+,Rxf7,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/0MaZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Mf9G', 'Classical', 'CM DDTerziev04', 2031, 'calmeetserein', 1909, 'e4,Nc6,Nf3,f5,exf5,d5,Nh4,Nh6,Qh5+,Nf7,c3,g6,fxg6', 'hxg6,Qxg6,Rxh4', 'https://lichess.org/training/0Mf9G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Mh35', 'Rapid', 'CrazyCashCow', 1758, 'runaphox', 1711, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Bb4,Nf3,h6,Bh4,Qd6,a3,Ba5,b4,Bb6,e3,Qc6,Rc1,Qd6,Bg3,Qe6,Be2,Nc6,O-O,Ne4,Nxe4,Qxe4,Nd2,Qg6,Nf3,Bf5,Nh4,Qe6,Nxf5,Qxf5,Bd3,Qe6,Re1,O-O-O,Qb3,Rhe8,Rc2,g5,Rec1,h5,h3,h4,Bh2,g4,Bxc7,Bxc7,Bb5,g3,Bxc6,gxf2+,Kxf2,Bg3+,Ke2,bxc6,Rxc6+,Qxc6,Rxc6+,Kb8,Qa4,Bf4,Qb5+,Ka8,Rc7,Bxc7,a4,Bf4,Qc6+,Kb8,Qb5+,Kc7,Qc5+,Kd7,Qxd5+,Ke7', 'Qe4+,Kf8,Qxf4', 'https://lichess.org/training/0Mh35');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0MoBR', 'Blitz', 'AsliyuceYE', 1680, 'RADOSLAW_97', 1639, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Bc4,Bg7,Nc3,e6,O-O,d5,exd5,cxd5,Bb5+,Bd7,Qe2,Ne7,Bg5,f6,Bh4,g5,Bg3,Nf5,Nxd5,Nxg3,fxg3,O-O,Nc3,Qb6+,Kh1,Bxb5,Qxb5,Qxb5,Nxb5,Rab8,c4,a6,Nc7,Rxb2,Nxe6,Re8,Nxg7,Kxg7,Rfe1,Rc8,Rec1,a5,c5,a4,c6,Rc7,a3,Kf7,Rc4,Rb6,Rac1,Ra6,h3,h5,Rb4,Raxc6,Rxc6,Rxc6,Rxa4,Rc1+,Kh2,Ra1,Ra7+,Kg6,a4,Kf5,a5,h4,a6,hxg3+,Kxg3,Ra3+,Kh2,Ke4,Ra8,Kf4,a7,f5,Kh1', 'Kg3,Rb8,Ra1+,Rb1,Rxb1#', 'https://lichess.org/training/0MoBR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0mp4e', 'Rapid', 'Konstanti', 1679, 'lapasssuka-bdg-4', 1873, 'e4,c5,Nf3,a6,d4,e6,c3,b5,Bf4,c4,Nbd2,Bb7,Be2,d6,b3,cxb3,axb3,Qd7,O-O,h6,Re1,g5,Bg3,Be7,e5,d5,c4,h5,h3,Nc6,cxb5,axb5,Rxa8+,Bxa8,Bxb5,Nh6,Qc2,Nf5,Bxc6,Bxc6,Ra1,O-O,Ra6,Rc8,Qa2,g4,hxg4,hxg4,Nh2,Nxd4,Nxg4,Ne2+,Kh2,Nxg3,Kxg3,Kg7,Ra7,Rc7,Rxc7,Qxc7,Qc2,f5,f4,fxg4,Kxg4,d4,Qc4,Qd7,Nf3,Bxf3+,Kxf3,Qd5+,Qxd5,exd5,e6,Kf6,Ke2,Kxe6,Kd3,Bc5,b4,Bb6,g4,Kf6,Kd2,Bc7,f5,Ke5,Kd3,Bb6,b5,Bc5,Ke2,Kf4,f6,Kxg4', 'f7,Kf5,b6,Bd6,b7', 'https://lichess.org/training/0mp4e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0MPZF', 'Rapid', 'Chefket', 1862, 'Darkknightx', 1850, 'd4,g6,c4,Bg7,Nc3,d6,Bg5,Nc6,e3,Bf5,e4,Bd7,Nf3,f6,Be3,e5,d5,Nce7,Bd3,Nh6,h3,f5,exf5,Nhxf5,Bg5,h6,Bd2,c6,g4,Nd4,Nxd4,exd4,Ne4,Qc7,Bf4,Be5,Bxe5,dxe5,Nf6+,Kf7,Qf3,Kg7,h4,Rhf8,g5,h5,O-O-O,Ng8,Nxh5+,gxh5,Qxh5,Bf5,g6,Bxd3', 'Qh7+,Kf6,Qxc7', 'https://lichess.org/training/0MPZF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0MqXO', 'Rapid', 'GutiRaf', 2114, 'alsunko', 2139, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,h3,h6,c3,g5,d4,Bb6,dxe5,dxe5,Qxd8+,Nxd8,Nxe5,Nxe4,Be3,O-O,Bxb6,axb6,Re1,Nc5,Ng6,Nde6,Nxf8,Kxf8,Nd2,Bd7,Bxe6,Bxe6,a3,Na4,b3,Nxc3,Rac1,Nd5,a4,c6,Nc4,Nf4,Rc3,b5,axb5,cxb5,Nd6,Ra2,Rce3,Rb2,Nxb5,Bxb3,Nd6,b6,Nf5,Be6,Nxh6,b5,Ng4,b4,g3', 'Nxh3+,Kh1,Bxg4', 'https://lichess.org/training/0MqXO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Ms3R', 'Blitz', 'juanjo170172', 1588, 'DylexicFariy', 1672, 'e4,c6,Nf3,d5,e5,Bf5,Be2,e6,O-O,g6,Nc3,Ne7,d4,Bg7,Bg5,O-O,Nh4,Re8,Nxf5,exf5,h4,Qb6,h5,Qxb2,Na4,Qb4,c3,Qa5,h6,Bf8,Nc5,Nc8,e6,fxe6,Nd3,Qc7,Ne5,Bd6,Bf6,Nd7,Bh5,Nxf6,Bxg6,hxg6,Nxg6,Bh2+,Kh1,Bf4,g3,Bxh6,Kg2,Ng4,Rh1,Kg7,Ne5,Ne7,Nxg4,fxg4,Qxg4+,Kh7', 'Rxh6+,Kxh6,Rh1#', 'https://lichess.org/training/0Ms3R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Msbe', 'Rapid', 'tsidrouhou', 1656, 'Pinuccio1', 1669, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,Nc3,a6,d3,b5,Bb3,Be7,Nd5,c6,Nxe7,Qxe7,c3,Nbd7,d4,O-O,dxe5,Nxe5,Qe2,c5,c4,bxc4,Bxc4,Nxc4,Qxc4,Qxe4+,Qxe4,Nxe4,f3,Ng3,Rg1,Rfe8+,Kf2,Ne2,Re1,Nd4,Rxe8+,Rxe8,Be3,Nc2,Re1,Nxe3,Rxe3,Kf8,Ra3,Ra8,Rb3,a5,Rb6,Ke7,Rb5,Ke6,Rb7,a4,Ke3,h5,g4,hxg4,hxg4,g6,f4,Kf6,Ke4,Re8+,Kd5,Re2,Kxd6,Rf2,g5+,Kg7,Kxc5,Rxf4,Ra7,Rg4,Kb5,Rxg5+,Kxa4,Rf5,b4,Rf4,Re7,g5,Ka5,g4,b5,g3,Re1,g2,Rg1,Rf2,b6,Rxa2+,Kb5,Rb2+,Kc6,f5,b7,f4', 'Rxg2+,Rxg2,b8=Q', 'https://lichess.org/training/0Msbe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0mT7N', 'Rapid', 'DavidNizama', 2005, 'SegundoCanari', 1832, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,Nf3,Bg4,O-O,Be7,d4,O-O,h3,Bh5,Bf4,Nc6,c3,Re8,Nbd2,Ne4,g4,Bg6,Ne5,Nxe5,Bxe5,Rc8,Nxe4,Bxe4,f3,Bg6,Kg2,Bf8,Re1,Qd7,Qd2,c6,Bg3,Bd6,Qf2,Rxe1,Rxe1,Re8', 'Rxe8+,Qxe8,Bxd6', 'https://lichess.org/training/0mT7N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0MvsS', 'Rapid', 'eduardo8812', 1904, 'S_Burrito', 1946, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,g6,d5,Ne5,Be2,Nxf3+,Bxf3,Bg7,O-O,Nf6,Be2,Nxe4', 'Qa4+,Bd7,Qxe4', 'https://lichess.org/training/0MvsS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0mWxP', 'Rapid', 'apostrov13', 1729, 'ritschie', 1698, 'e4,e5,Nf3,Nf6,Ng5,h6,Nxf7,Kxf7,Bc4+,d5,exd5,Bd6,Qf3,e4,Qc3,Re8,O-O,Nbd7,d3,Nb6,dxe4,Nxc4,Qxc4,Rxe4,Qb3,b6,Nc3,Ba6,Nxe4,Bxf1,Nxf6,Qxf6,Kxf1,Re8,Be3,Qh4,g3,Qh3+,Kg1,Qf5,Rf1,Re5,c4,Re4,f4', 'Rxe3,Qxe3,Bc5,Qxc5,bxc5', 'https://lichess.org/training/0mWxP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0n0vx', 'Rapid', 'burywsr1', 1826, 'Pocchia', 1812, 'd4,Nf6,c4,e5,d5,Bc5,Nc3,O-O,e4,d6,h3,c6,Nf3,cxd5,Bd3,dxe4,Nxe4,Nxe4,Bxe4,Qb6,O-O,Nc6,Bd5,Nb4,Ng5,Nxd5,Qxd5,h6,Ne4,Be6,Qd3,Bd4,Rb1,Qc6,b3,Kh8,Kh1,Bf5,f3,Rac8,Ba3,Rfd8,Qe2,d5,cxd5,Rxd5,Rbc1,Qg6,Rxc8+,Bxc8,Rc1,Rd8,Nd6,Qe6,Rc7,Rxd6,Bxd6,Bb6,Qxe5,Qxe5', 'Rxc8+,Kh7,Bxe5', 'https://lichess.org/training/0n0vx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0n2RA', 'Rapid', 'drbedrocan', 1771, 'Grota', 1732, 'd4,d5,Nf3,Nc6,Nc3,Bg4,Bf4,Bxf3,exf3,a6,Be2,e6,O-O,h6,a4,Be7,Qd2,Bf6,Be3,Qd6,Bf4,Qd7,Bg3,Nge7,b4,Nf5,b5,Ncxd4,Bd3,Nxg3,fxg3,a5,Ne2,Nxe2+,Qxe2,b6,Rab1,Bd4+,Kh1,Bc5,Qe5,f6,Qe2,O-O-O,c4,d4,Qe4,Kb8,f4,f5,Qf3,g5,g4,Bd6,g3,gxf4,gxf4,h5,g5,h4,Rfd1,Bc5,h3,Rdg8,Bf1,Re8,Bg2,c6,bxc6,Qc7,Rb5,Ka7,Rdb1,Rb8,Re1,Rhe8,Qh5,Rh8,Qg6,Qxf4,Qf7+,Ka6,g6,Bd6,Kg1,d3,Reb1,Bc5+,Kh1,d2,Rxb6+,Rxb6', 'Rxb6+,Bxb6,Qb7#', 'https://lichess.org/training/0n2RA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0N64M', 'Rapid', 'virge', 1846, 'illmac2', 1850, 'd4,d5,Bf4,Bf5,e3,e6,c4,Bd6,Bxd6,cxd6,Nc3,Nf6,cxd5,exd5,Nge2,Nc6,a3,O-O,Nf4,Ne7,Qf3,Be4,Qd1,Qb6,b4,Rac8,Rc1,Ng6,Nxg6,fxg6,Nxe4,Rxc1', 'Nxf6+,gxf6,Qxc1', 'https://lichess.org/training/0N64M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0n6Af', 'Rapid', 'manyu_4605', 1709, 'hugeshow', 1669, 'd4,d5,Nc3,c6,e4,dxe4,Nxe4,e6,Bg5,Be7,Bxe7,Nxe7,Nf3,h6,c3,O-O,Bd3,Nd7,O-O,Nf5,Ng3,Nxg3,hxg3,Nf6,Ne5,Qd5,g4,Nd7,Nxd7,Bxd7,Qe1,Rae8,Qe2,f5,Bc4,Qd6,gxf5,Kh8,fxe6,Bxe6,Bxe6,Rxe6,Qd3,Qd5,Rae1,Rd6,a4,Qg5,Re5', 'Qxe5,dxe5,Rxd3', 'https://lichess.org/training/0n6Af');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nC1t', 'Rapid', 'Vicky1965', 1748, 'MILADBCH', 1711, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,O-O,O-O,d6,Bg5,h6,Bh4,Bg4,h3,Bh5,Nd5,g5,Nxf6+,Kh8,Nxh5,gxh4,Nh2,Qg5,Qg4,Rg8,Nf3,Qxg4,hxg4,Rxg4,Nf6,Rg6,Nd5,h3,g3', 'Rxg3+,Kh1,Rxf3', 'https://lichess.org/training/0nC1t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nCsv', 'Rapid', 'sakkariini', 1705, 'Miklegro', 1760, 'f4,d5,Nf3,Nc6,b3,Bg4,e3,Bxf3,Qxf3,e5,Bb5,e4,Qe2,Qd6,O-O,O-O-O,a4,Nb4,c3,Nd3,Bxd3,exd3,Qxd3,Nf6,Qe2,Ne4,a5,a6,Na3,h5,Nb5,axb5,Qxb5,h4,a6,bxa6', 'Rxa6,Qxa6,Qxa6+', 'https://lichess.org/training/0nCsv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nczf', 'Blitz', 'Yury_1961', 1804, 'Alainais', 1967, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,Bf5,e3,e6,Bd3,g6,Bxf5,gxf5,cxd5,Nxd5,Nf3,h6,Nxd5,cxd5,Ne5,Nc6,Qa4,Bb4+,Ke2,Rc8,Rac1,Qb6,Nxc6,Rxc6,Rxc6,bxc6,Rc1,Kd7,a3,Bd6,Bxd6,Kxd6,b4,a6,Qb3,Qb5+,Qd3,Qxd3+,Kxd3,Rb8,Rc5,Rb5,Kc3,f6,a4,Rxc5+,bxc5+,Kc7,Kb4,e5,f3,h5,g3,Kb7,h3,Kc7,Ka5,Kb7,g4,hxg4,hxg4,fxg4,fxg4,e4,Kb4,Kc7,a5', 'Kd7,Kc3,Ke6,Kd2,f5', 'https://lichess.org/training/0nczf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nElw', 'Rapid', 'faeldireito', 1616, 'WhiteK', 1708, 'e4,e6,d4,d5,Nc3,c5,dxc5,Bxc5,exd5,exd5,Nxd5,Be6,Bc4,a6,Be3,Bxe3,fxe3', 'Qh4+,g3,Qxc4', 'https://lichess.org/training/0nElw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0netW', 'Rapid', 'azertytom', 1700, 'cynthia111', 1658, 'e4,e5,Nf3,Qf6,Bc4,Bc5,O-O,Qf4,d3,Qf6,Ng5,Nh6,Nf3,Nc6,c3,Ng4,h3,Nxf2,Rxf2,Bxf2+,Kxf2,h6,b4,a6,b5,axb5,Bxb5,Ne7,d4,Qb6,Be2,d6,Qb3', 'Qxb3,axb3,Rxa1', 'https://lichess.org/training/0netW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0NFXB', 'Rapid', 'Jagoda64', 2046, 'smmmm', 2029, 'e3,e5,c4,f5,Nf3,Nc6,a3,Nf6,b4,a6,Bb2,d6,Be2,Be7,h3,O-O,Nc3,Be6,Ng5,Qd7,Nxe6,Qxe6,Qc2,h6,b5,Na5,Nd1,d5,cxd5,Nxd5,bxa6,bxa6,Nc3,c6,Nxd5,cxd5,Bc3,Nc6,O-O,Rac8,Qa4,d4', 'Bc4,Qxc4,Qxc4+', 'https://lichess.org/training/0NFXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nIaw', 'Blitz', 'Detk1n', 1659, 'krevil', 1716, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,h6,Bh4,Nbd7,Bd3,b6,cxd5,exd5,O-O,Bb7,Rc1,Ne4,Bxe7,Qxe7,Qc2,Rac8,b4,a6,Nd2,f5,Ne2,Qxb4,Nf4,Nxd2,Rfd1,Ne4,f3,Nef6,Bxf5,c5,Be6+,Rf7,Qg6,Rf8,Bxf7+,Rxf7,dxc5,bxc5,e4,dxe4,Rxd7,Rxd7,Nh5,exf3', 'Nxf6+,Kh8,Qe8#', 'https://lichess.org/training/0nIaw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0NkLF', 'Rapid', 'Aryanbrave1', 1916, 'Cassiodorus1', 1943, 'e4,e5,Bc4,Nf6,Bxf7+,Kxf7,d3,Bc5,Ne2,Rf8,h3,Kg8,O-O,d6,Be3,Bxe3,fxe3,Nc6,c4,Be6,Nbc3,Qd7,Ng3,g6,Nd5,Bxd5,exd5,Ne7,Qd2,c6,e4,cxd5,Qg5,Kg7,Rxf6,Rxf6', 'Nh5+,Kg8,Nxf6+', 'https://lichess.org/training/0NkLF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nLtC', 'Rapid', 'DAVO2016', 1953, 'Evann_P-B', 1644, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,O-O,h3,d6,a3,h6,b4,Bb6,d3,a6,Be3,Bxe3,fxe3,Ne7,Bb3,Ng6,Ne2,c6,c3,d5,exd5,cxd5,d4,exd4,cxd4,Qd6,Qd3,Rd8,Rac1,Ne4,Nd2,Ng3,Nxg3,Qxg3,Rc7,Bxh3,Qe2,Be6,Rxb7,Nh4,Nf3,Bg4,Qf2', 'Nxf3+,Qxf3,Bxf3', 'https://lichess.org/training/0nLtC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nme4', 'Rapid', 'genlunachess', 2083, 'resueraromeoramil', 2190, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,Nf6,Bg2,dxe4,dxe4,e5,O-O,Bg4,c3,Be7,Qb3,Qc7,Ng5,O-O,h3,Bh5,Re1,Rfd8,Nc4,h6,Nf3,Rd7,Nh4,Rad8,Nf5,Bf8,g4,Bg6,g5,hxg5,Bxg5,Na5,Nxa5,Qxa5,Nh4,Bh7,f4,Qc7,f5,c4,Qc2,Rd3,Kh2,Qb6,Bf1', 'Rd2+,Bxd2,Qf2+,Ng2,Rxd2,Qxd2,Qxd2', 'https://lichess.org/training/0nme4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0NQ3I', 'Rapid', 'EmreFerman', 1692, 'papuchote', 1718, 'e4,c5,Bc4,Nc6,b3,d6,Bb2,e5,Nf3,Bd7,c3,Na5,d4,Nxc4,bxc4,cxd4,cxd4,Rc8,Qb3,b6,d5,f5,Nc3,Nf6,Ng5,Nxd5,cxd5,Qxg5,exf5,Qxg2,O-O-O,Qxf2,Rdf1,Qe3+,Kb1,Be7,Rhg1,Bf6,h4,Bxf5+,Ka1,Bg6,Qb5+,Ke7,Qa6,Bd3,Qxa7+,Kd8,Rc1,Re8,Rge1,Qc5,Ne4,Qa5,Qxa5,bxa5', 'Rxc8+,Kxc8,Nxd6+', 'https://lichess.org/training/0NQ3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0NQ49', 'Rapid', 'M_Khorsandijou', 1905, 'Isildur7172', 1898, 'e4,e5,Bc4,Bc5,d3,Nf6,c3,d6,f4,Bg4,Nf3,c6,f5,b5,Bb3,a5,h3,Bxf3,Qxf3,a4,Bc2,b4,Bd2,bxc3,Bxc3,Nbd7,Nd2,Nf8,a3,h6,g4,N8h7,h4,Ke7,Nc4,Rb8,Na5,Qb6,Ke2,h5,g5,Ng4,Bxa4,f6,Nxc6+,Kf8,Nxb8,Qxb8,g6,Ke7,Bc2,Nf8,a4,Nd7,a5,Bb4,a6,Bxc3,bxc3,Nc5,d4,exd4,cxd4,Qb5+,Bd3', 'Qb2+,Bc2,Qxc2+', 'https://lichess.org/training/0NQ49');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Nqy8', 'Rapid', 'lightshade', 1997, 'xusam', 2008, 'e4,c6,d4,e6,f4,Ne7,Nf3,Ng6,Be3,d5,e5,Bb4+,c3,Ba5,Nbd2,O-O,Bd3,f5,exf6,Rxf6,f5,exf5,Bg5,Qe8+,Be2,Re6,Nb3,Bb6,a4,h6,a5,Bc7,Nc5,Rxe2+,Qxe2,Qxe2+,Kxe2,hxg5,Nxg5,Na6,g3,Nxc5,dxc5,Bd8,Nf3,Bf6,Rhe1,Bd7,Kf2,Re8,Nd4,Re4,Nc2,Ne5,Rxe4,fxe4,Ne3,Bh3,a6,Bc8', 'axb7,Bxb7,Rxa7', 'https://lichess.org/training/0Nqy8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ns3c', 'Rapid', 'Deer9876', 1808, 'lemarx1887', 1732, 'd4,c5,c3,d5,Bg5,f6,Bf4,Nc6,h3,e5,dxe5,fxe5,Bh2,e4,e3,Nf6,Nd2,Qb6,Qc2,c4,O-O-O,Bc5,Ne2,O-O,g4,a5,g5,Nd7,Nf4,Nde5,Rg1,a4,Nxd5,Nd3+,Bxd3,exd3,Qb1,Qd8,Nf4,a3,Nxc4,Bf5,Qa1,b5,Nd2,b4,e4,Bxf2,Rgf1,Bxe4,Nxe4,bxc3,bxc3,Be3+,Nd2,Qb6,Nd5', 'Bxd2+,Kxd2,Rf2+,Rxf2,Qxf2+', 'https://lichess.org/training/0ns3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nSAK', 'Rapid', 'atillaceylan', 1627, 'AIIA', 1885, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bb4,Ng5,O-O,Nd5,Nxd5,Bxd5,Qxg5,a3,Qxg2,Rf1,Be7,c3,Bh4,Qh5,Qxh2,Qf3,b6,Rh1,Bxf2+,Kf1,Ba6+,c4,Qg3,Qxf2,Qd3+,Kg2,Bxc4,Rh3,Qc2,Qh4,h6,Rc3,Bf1+,Kxf1,Qd1+,Qe1,Qg4,Rg3,Qf4+,Kg2,Qf6,d3,a5,Qh1,Kh7,Bxh6,gxh6,Rf1,Qe7,Qxh6+,Kxh6', 'Rh1+,Qh4,Rxh4#', 'https://lichess.org/training/0nSAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0NtlP', 'Blitz', 'Vajar3', 1789, 'VaLLeria_ChEEs_GiRL', 1810, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,h3,Bd6,O-O,Be6,Re1,O-O,d4,exd4,Qxd4,c5,Qe3,Be7,e5,Nd5,Qe4,Nxc3,bxc3,c6,Bf4,Bd5,Qe3,Bh4,Rad1,Qe7,c4,Bxf3,Qxf3,Bg5,Rd6,Bxf4,Qxf4,Rad8,Red1,Rxd6,exd6,Qd7,Qe5,Re8,Qxc5,b6,Qg5,h6,Qh5,Re6,c5,bxc5,Qxc5,a5,c4,a4,Qd4,a3,c5,Rg6,Rd3,Rg5,Rxa3,Rd5,Ra8+,Kh7,Qe4+,g6,Qe7,Qf5,Qf8', 'Rd1+,Kh2,Qf4+,g3,Qxf2#', 'https://lichess.org/training/0NtlP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nw8d', 'Blitz', 'asan1982', 1757, 'CM Kingslayer061', 1751, 'e4,c5,Nf3,g6,c3,d5,exd5,Qxd5,Be2,Nc6,O-O,c4,d3,cxd3,Bxd3,Bg7,Re1,Nf6,Bf4,O-O,Bc2,Be6,Qxd5,Bxd5,Nbd2,Rfe8,Rad1,Nh5,Be3,e5,b3,Rad8,c4,Be6,Ng5,Bg4,f3,Bc8,Be4,Nd4,Bd5,Ne6,Bxe6,Bxe6,Nxe6,Rxe6,Bxa7,Ra6,Bc5,Rxa2,Ne4,Rxd1,Rxd1,h6,Be3,Nf4,Bxf4,exf4,h3,Rb2,Rd3,Bf8,c5,Be7,Nd6,Bxd6', 'cxd6,Ra2,d7', 'https://lichess.org/training/0nw8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nwbd', 'Rapid', 'touareg1984', 2095, 'msbawa', 1960, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nc3,exd4,Nd5,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,Qxd4,Nxd5,exd5,Qf6,Qa4,Qe5+,Be3,Qxd5,O-O,Qc6,Qg4,Ne5,Qg3,a6,Rfe1,O-O-O,f4,Nc4,Bd4,d5,b3,Na3,Bb2,Bc5+,Kh1,Nxc2,Rac1,Nxe1,Bd4,b6,b4,Kb7,bxc5,bxc5,Rxc5,Qe6', 'Qb3+,Qb6,Rc7+', 'https://lichess.org/training/0nwbd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Nwlm', 'Blitz', 'Smv-k', 2371, 'khaledharazy77777777', 2192, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nge7,O-O,O-O,d4,exd4,cxd4,Bb6,d5,Nb8,d6,cxd6,Nc3,a6,Bc4,Bc5,Ng5,h6,Nf3,b5,Bb3,Nbc6,Bf4,Qc7,Nd5,Nxd5,Qxd5,Bb7,Qh5,Qd8,Bxh6,Ne5,Nxe5,dxe5,Qxe5,gxh6,Qxc5,Bxe4,Rfe1,Bc6,Re3,Kh8,Rg3,Qf6,Rd1,Rg8,Rd6,Rae8,h3,Rxg3,Rxf6', 'Re1+,Kh2,Rxg2#', 'https://lichess.org/training/0Nwlm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nXNU', 'Rapid', 'Masterwasabi87', 1648, 'hamon23', 1608, 'e4,e6,d4,d6,Nf3,Bd7,Bc4,b5,Bb3,Nc6,c3,h6,O-O,a6,Be3,Nf6,Nbd2,Be7,Re1,Ng4,d5,Nce5,Nxe5,Nxe5,Bd4,Bf6,Bxe5,Bxe5,Nf3,Bf6,a4,O-O,Nd4,e5,Nc6,Qc8,Qe2,Qb7,Na5,Qb6,axb5,axb5,Nc6,Bxc6,dxc6,Qxc6', 'Bd5,Rxa1,Bxc6,Rxe1+,Qxe1', 'https://lichess.org/training/0nXNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0NYHQ', 'Rapid', 'masterofdisaster44', 2121, 'sudhiradalja', 2129, 'e3,e5,d3,f5,g3,Nf6,Bg2,c6,Ne2,d5,f4,e4,d4,Be6,h3,h6,a3,Qc7,b3,Bd6,O-O,g5,Kh2,Nbd7,Nd2,b5,b4,Ke7,Nb3,gxf4,exf4,Nb6,Nc5,Bc8,a4,Nc4,axb5,cxb5,Nc3,Qc6,Qe2,a5,bxa5,b4,Re1,Bxc5,dxc5,Be6,Nd1,d4,Nf2,Nxa5,Bb2,Qxc5,g4,Bc4,Qd1,Qd6,Kg3,Rhg8,Bxd4,Nh5+,Kh2,Qxf4+,Kg1,Nc6,Bc5+,Ke6,Rxa8,Rxa8,gxf5+,Qxf5,Rxe4+,Kf7,Rxc4,Rd8,Qf3,Qxf3,Bxf3,Ne5,Rxb4,Nxf3+,Kg2,Ng5,Rb7+,Kg6,Ng4,Rd2+,Kf1', 'Ng3+,Ke1,Nf3#', 'https://lichess.org/training/0NYHQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0nYV5', 'Classical', 'Rupfer', 1916, 'Aaragorn6352', 1834, 'e4,c5,Nf3,e6,Nc3,Nc6,a3,Nf6,d4,d5,exd5,exd5,Bg5,Be7,Qd2,Ne4,Bxe7,Qxe7,Qe2,Nxc3,bxc3,Be6,O-O-O,cxd4,Nxd4,Qxa3+,Kd2,Nxd4,cxd4,O-O,Qb5,Rfc8,Bd3,a5,f4,Bg4,Ra1,Qxd3+,cxd3,b6,h3,Be6,g4,Rd8,f5,Bd7,Qxb6,a4,Ra3,Rab8,Qc7,Rb2+,Ke3,Rbb8,Kf4,Rbc8,Qa5,Ra8,Qd2,Ra7,Re1,Rb8,h4,Ra6,g5,g6,f6,Be6,Qc3,Rd8,Qc7,Rda8,Rea1,h6,gxh6,R6a7,Qc1,Kh7,h5,Rg8,hxg6+,Rxg6,Qd1,Rxf6+,Ke3,Re7,Kd2,Rf2+,Kc3', 'Rc7+,Kb4,Rb2+,Rb3,Rxb3+,Qxb3,axb3', 'https://lichess.org/training/0nYV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0NZwv', 'Classical', 'Kingsway74', 1655, 'Stephissime75', 1642, 'd4,Nf6,Nf3,e6,g3,b6,Bg2,Bb7,c4,c5,O-O,d5,cxd5,Bxd5,Nc3,Bb7,Qc2,cxd4,Rd1,Nc6,Ne5,Qc7,Nxc6,Bxc6,Bxc6+,Qxc6,Rxd4,Bc5,Rd3,Nd5,Nxd5', 'Bxf2+,Kxf2,Qxc2', 'https://lichess.org/training/0NZwv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0o1jT', 'Blitz', 'NM Jcrossover', 2335, 'Bulletexperte2', 2275, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,b6,Qxb6,Nc3,d6,e4,g6,Bd3,Bg7,Nge2,O-O,O-O,a5,a4,Ba6,Nb5,Bxb5,axb5,Nfd7,Nc3,Qb7,Bg5,Re8,f4,Nb6,f5,N8d7,fxg6,hxg6,Qf3,Ne5,Qg3,Nxd3,Qxd3,Nd7,Rf2,Ne5,Qh3,Qd7,Qxd7,Nxd7,Raf1,Ne5,Na4,Rab8,b6,Rb7,Bd2,Nc4,Bc3,Rf8,h4,Nxb6,Nxb6,Rxb6,Bxa5,Rxb2,Rxb2,Bxb2,Rb1,Bd4+,Kh2,Ra8,Be1,Be5+,Bg3,Bxg3+,Kxg3,Ra3+,Kg4,Ra4,Kf4,Kg7,Rb7,Kf6,g4,e5+,dxe6,Kxe6,h5,gxh5,gxh5,d5,Rb6+,Ke7,h6,Rxe4+,Kg5,Re5+,Kg4,Re4+,Kg5,Re1,Rb7+,Ke6,Rb6+,Ke5,h7,Rg1+,Kh6,Rh1+,Kg7,f5', 'Rh6,Rxh6,Kxh6', 'https://lichess.org/training/0o1jT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0O5dX', 'Rapid', 'Deador222', 1813, 'KuzenkovRoman', 1799, 'd4,d5,c4,e6,Nf3,a6,Nc3,dxc4,e4,b5,a4,c6,axb5,cxb5,d5,exd5,exd5,Bb4,Bd2,Bb7,b3,Nf6,bxc4,bxc4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/0O5dX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0O9oL', 'Rapid', 'Feodor82', 1680, 'YErasyll', 1871, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,Bxc3+,bxc3,O-O,Bd3,b6,Nf3,Bb7,O-O,d6,Re1,Nbd7,e4,e5,d5,Rc8,Bg5,h6,Be3,c6,Nh4,Nxe4,Bxe4,Qxh4,Bd2,cxd5,cxd5,Nf6,Qa4,Bxd5', 'Bh7+,Kxh7,Qxh4', 'https://lichess.org/training/0O9oL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0o9Q5', 'Rapid', 'paolini', 1614, 'Alpgokmen', 1637, 'd4,d5,c4,dxc4,Nc3,Nc6,Nf3,Nf6,Bf4,Bg4,e3,e6,Bxc4,Bb4,Bd3,Nd5,Qc2,Nxf4,exf4,Bxf3,gxf3,Qxd4,O-O-O,Qxf4+,Kb1,Qxf3,Bxh7,Bxc3,bxc3,g6,Bxg6,fxg6,Qxg6+,Ke7', 'Qg7+,Qf7,Rd7+,Kxd7,Qxf7+', 'https://lichess.org/training/0o9Q5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0oceE', 'Blitz', 'IM stvngrnrt', 2487, 'jshutzman', 2521, 'd4,Nf6,c4,g6,f3,Bg7,e4,d6,Nc3,O-O,Be3,c5,Nge2,Nc6,d5,Ne5,Ng3,e6,Be2,exd5,cxd5,a6,a4,h5,O-O,Nh7,h3,h4,Nh1,f5,f4,Nf7,e5,dxe5,Bxc5,Re8,fxe5,Nxe5,Nf2,Nf6,Bd4,Bd7,d6,Rc8,Nd3,Nxd3,Qxd3,Qa5,Bf3,Qb4,Nd5,Nxd5,Bxd5+,Kh7,Bxg7,Kxg7,Bb3,Re4,Rad1,Rce8,Qd5,Be6,Qxe6,R4xe6,Bxe6,Rxe6,d7,Qb6+,Kh1,Qd8,Rd4,Kf6,Rfd1,g5,Kg1,Ke7,Kf1,Rb6,Re1+,Kf6', 'Re8,Qxd7,Rxd7', 'https://lichess.org/training/0oceE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0odJe', 'Rapid', 'Danismentoglu', 1875, 'Giordan71', 1895, 'e4,d6,Bc4,Nf6,d3,g6,Bg5,Bg7,c3,O-O,a3,Nbd7,Nf3,c5,h3,a6,O-O,b5,Ba2,Nb6,e5,dxe5,Nxe5,Nfd5,Nc6,Qd6,Na5,Qe5,Bh4,Bf5,Re1,Qd6,Qf3,Be6,Nb7,Qc7,Na5,Nd7', 'Bxd5,Bxd5,Qxd5', 'https://lichess.org/training/0odJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ODpZ', 'Rapid', 'A1234562', 1860, 'pawner85729', 1866, 'd4,Nf6,c4,e6,Nc3,Be7,Nf3,d5,e3,Nbd7,Be2,O-O,O-O,b6,Qc2,Bb7,cxd5,Nxd5,Nxd5,Bxd5,Bd2,Nf6,Rac1,c6,Ne5,c5,Bf3,Bxf3,Nxf3,cxd4,Nxd4,Bc5,Bc3,Bxd4,Bxd4,Qd5,Bxf6,gxf6,b3,Kh8,Qb2,Qg5,f4,Qg6,Rf3,Rac8,Re1', 'Rc2,Qxc2,Qxc2', 'https://lichess.org/training/0ODpZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0OGXI', 'Blitz', 'HannibalsTea', 1712, 'rabliche', 1712, 'd4,d5,c4,c6,Nc3,dxc4,e3,Be6,Nf3,h6,Ne5,Nf6,Nxc4,g6,Bd3,Bg7,Ne5,O-O,O-O,Nbd7,f4,Nxe5,fxe5,Nd5,Nxd5,Qxd5,b3,Qd7,Bb2,Rad8,Rc1,b6,e4,c5,d5,Bg4,Qd2,Qc7,b4,Bxe5,bxc5,Bxb2,Qxb2,bxc5,Bc4,Rb8,Qd2,Qe5,Qxh6,Rb2,Rxf7,Rxf7,Qxg6+,Rg7,d6+,Kh8', 'Qh6+,Rh7,Qf8#', 'https://lichess.org/training/0OGXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0oiIv', 'Rapid', 'basm52', 1831, 'lucky121', 1771, 'c4,e6,d4,c5,dxc5,Bxc5,Nc3,Nf6,Nf3,Nc6,g3,b6,Bg2,Bb7,O-O,Rb8,Bg5,h6,Bxf6,Qxf6,Ne4,Qe7,Nxc5,Qxc5,Rc1,Nb4,a3,Nc6,b4,Qe7,Nd2,O-O,Nb3,Nd8,c5,Bxg2,Kxg2,bxc5,Nxc5,Nc6,Qxd7,Rbc8,Qxe7,Nxe7,Rfd1,Nd5,e4,Nb6,Nd7,Nxd7', 'Rxc8,Rxc8,Rxd7', 'https://lichess.org/training/0oiIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0oKYy', 'Blitz', 'jaoso78', 2467, 'FM FlinkerFreddy', 2413, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,d6,d3,O-O,e4,Nbd7,Nbd2,e5,Nc4,Nc5,a4,a5,c3,Be6,Ng5,Bg4,Qc2,h6,Nf3,Qd7,Re1,Bh3,Bh1,Rfe8,Ne3,c6,Nd2,d5,exd5,cxd5,Nb3,Ne6,Nf1,e4,dxe4,dxe4,Be3,Ng5,Nfd2,Qf5,Nd4,Qc8,Bxg5,hxg5,Nxe4,Ng4,Nd6,Qc5,Nxe8,Bxd4,Re2,Bxf2+,Rxf2,Rxe8,Rd1,Kg7,Bxb7,Ne3,Qd3,Nxd1,Qxd1,Qe3,Bg2,g4,Bxh3,gxh3,Qf3,Qc1+,Rf1,Qxb2,Qxf7+,Kh6,Qf4+,Kh7,Qh4+,Kg7,Qxh3,Qb6+,Kh1,Qc6+,Qg2,Qxc3,Qb7+,Kh6,Kg2,Qc2+,Kh3,Qxa4,Rf7,Qc4,Rh7+,Kg5,Qd7', 'Qf1#', 'https://lichess.org/training/0oKYy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0onwR', 'Rapid', 'ezazel07', 1876, 'Venica', 1902, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,g6,d4,Nbd7,Be3,Bg7,Qd2,O-O,h4,a6,h5,Nxh5,Bh6,exd4,Nxd4,Ne5,Bxg7,Kxg7,Bb3,b5,f3,c5,Nde2,c4,O-O-O,cxb3,axb3,Nf6,Qh6+,Kg8,g4,Nxf3,g5,Nh5,Nd5,Nxg5,Rdf1,f5,Nef4,Nf7,Qxh5,gxh5,Rfg1+,Ng5,Rxh5,Rf7,Rhxg5+,Kh8,Nh5,Be6,Ndf4,Qe7,Ng6+,hxg6,Nf4,Rg7,Nxg6+,Rxg6,Rxg6,Qh7,Rxe6,fxe4,Re1,Rc8,R1xe4,d5,Re8+,Rxe8', 'Rxe8+,Qg8,Rxg8+,Kxg8,Kd2', 'https://lichess.org/training/0onwR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Oo1S', 'Rapid', 'papapulangmalam', 1849, 'CrapCrusher', 1885, 'f4,d5,Nf3,g6,d3,Bg7,e3,e6,Be2,Ne7,c3,c5,O-O,Nbc6,Nbd2,b6,d4,Bb7,Ne5,cxd4,cxd4,O-O,Ndf3,f6,Nxc6,Nxc6,a3,e5,fxe5,fxe5,Qb3,e4,Ne5,Rxf1+,Bxf1,Nxe5,dxe5,Bxe5,Bd2,Qh4,g3,Qf6,Bg2,Rf8,Bc3,Qf2+,Kh1,Bxc3,bxc3,Qxe3,Rf1,Rxf1+,Bxf1,Qf2,Qd1,e3,Bg2,Kg7,Qd4+,Qf6,Qxe3,d4,cxd4', 'Qf1+,Qg1,Bxg2#', 'https://lichess.org/training/0Oo1S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0oRPp', 'Rapid', 'ramiro70', 1853, 'Prajal', 1864, 'd4,d5,Bf4,c6,Nf3,Bf5,e3,Nf6,Nc3,e6,a3,Nh5,Bg5,Be7,h4,h6,Bxe7,Qxe7,Ne5,Nf6,Bd3,Bxd3,Nxd3,Nbd7,Qe2,Ne4,Nxe4,dxe4,Nf4,e5,dxe5,Qxe5,O-O-O,Rd8,Rd4,O-O,Rhd1,Qe7,Qg4,Nf6,Qg3,Rxd4,Rxd4,Nd5,Nxd5,cxd5,Rxd5,Qe6,Rd4,Qa2,Qe5,Qa1+,Kd2,Qxb2,Qxe4,Qxa3,Qxb7,Qa5+,Ke2,Qc3,Qb3,Qa5,Kf3,Qf5+,Rf4,Qh5+,Kg3,Qe5,Kh2', 'g5,hxg5,hxg5', 'https://lichess.org/training/0oRPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ot0O', 'Rapid', 'Shehatastien', 1721, 'Tobask', 1638, 'd3,e5,g3,d5,Bg2,Nf6,Nd2,Bb4,a3,Bd6,e4,d4,Ngf3,c5,O-O,O-O,Nh4,Nc6,f4,Ng4,Nc4,b5,Nxd6,Qxd6,f5,Ne3,Bxe3,dxe3,g4,Qd4,Qe2,Qxb2,g5,f6,Qxe3,Qxc2,gxf6,Rxf6,Rfc1,Qa4,Qxc5,Qd4+,Qxd4,Nxd4,Rc5,Nb3,Rac1,Nxc1,Rxc1,Bb7,Rc5,a6,Rxe5,Rd8,Bf1,Rh6,Nf3,Rc8,Kf2,Kf7,Ke3,Rc3,Kd2,Rxa3,Rc5,Bxe4,Ne5+,Kf6', 'Ng4+,Kg5,Nxh6', 'https://lichess.org/training/0ot0O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0OU68', 'Classical', 'paul1991', 1799, 'dark-888', 1738, 'c4,c5,e4,e5,Nf3,d6,Nc3,Nf6,d3,Be7,Be2,Nc6,Nd5,Bg4,Nxf6+,Bxf6,Nxe5,Bxe2,Nxc6,Bxd1,Nxd8,Rxd8,Kxd1,Bd4,f3,O-O,Rb1,f5,Re1,a6,Bg5,Rd7,Kc2,h6,Bh4', 'g5,Bg3,f4,Rh1,fxg3', 'https://lichess.org/training/0OU68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0oyB4', 'Rapid', 'RedLeicester', 2031, 'Alireza3959', 2002, 'c4,e5,g3,Nf6,Bg2,Bc5,Nf3,e4,Ng5,Ng4,Nxe4,Bd4,e3,f5,exd4,O-O,O-O,Nc6,d5,Nce5,d4,Nxc4,Nbd2,Nce3,fxe3,Nxe3,Qb3,Nxf1,d6+,Kh8,dxc7,Qxc7,Ng5,Nxd2,Nf7+,Kg8,Nh6+,Kh8,Qg8+,Rxg8', 'Nf7#', 'https://lichess.org/training/0oyB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0oZlH', 'Blitz', 'Dmitry74', 1563, 'renmarkboy', 1564, 'e4,c5,f4,d6,Nf3,g6,Bc4,Bg7,O-O,e6,f5,exf5,exf5,Bxf5,d3,Ne7,Bxf7+,Kxf7,Ng5+,Kg8,g4,Bd4+,Kh1,Bd7,Nf7,Qc7', 'Nh6+,Kg7,Rf7#', 'https://lichess.org/training/0oZlH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0pa77', 'Rapid', 'Tucutac55', 1753, 'Herilampung7', 1840, 'd4,Nf6,c4,d5,cxd5,Nxd5,g3,g6,Bg2,Bg7,e3,O-O,Ne2,c6,Bd2,e5,Nbc3,exd4,Nxd5,cxd5,Nxd4,Bxd4,exd4,Re8+,Be3,Qa5+,Qd2,Qa6,Bxd5,Bh3,b3,Nc6,Bxc6,Qxc6,Rg1,Rad8,Rc1,Qf3,Qe2,Qd5,Rc5,Qe4,Kd2,Rxd4+,Kc3,Red8,Qc2,Rd3+,Kb2,Bf5,Qc4,Qxc4,Rxc4,b6,Rgc1,Be6,Rc7,a5,Bxb6,a4,bxa4,Rb8,a5,Rd2+,R1c2,Rd5,R2c5,Rd1,a3,Bf5,Rc4,Rd2+,Kc3,Ra2,Bc5', 'Rc2+,Kd4,Rd8+', 'https://lichess.org/training/0pa77');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0PeTu', 'Rapid', 'ribar77', 1938, 'Leandro_Rania', 2073, 'g3,c6,Bg2,d5,b3,Bg4,Bb2,Nf6,h3,Bh5,d3,e6,Qd2,Na6,a3,Bd6,Nf3,Rc8,Nc3,Nc7,O-O,O-O,e4,Be7,exd5,cxd5,Ne2,Nb5,Nf4,Bg6,Nxg6,hxg6,Rad1,Bxa3,Bxa3,Nxa3,Ra1,Nxc2,Ra2,Qb6,Rxc2,Qxb3,Rxc8,Rxc8,d4,Ne4,Qd1,Qb6,Ne5,Nc3,Qd3,Na4,Rb1,Qc7,Qb5', 'Nc3,Qxb7,Nxb1', 'https://lichess.org/training/0PeTu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0pFLd', 'Blitz', 'FM DmitryK1', 2361, 'FabricioPrado_UNMSM', 2260, 'd4,d5,Bg5,Nf6,Nc3,c6,Qd3,h6,Bh4,Bg4,O-O-O,Bh5,e4,Bg6,f3,Nbd7,Qe3,dxe4,Nxe4,Qc7,Bg3,Nd5,Bxc7,Nxe3,Re1,Nxf1', 'Nd6#', 'https://lichess.org/training/0pFLd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0phWI', 'Classical', 'IgorKoc', 1992, 'Ben_Yish_Hadar', 1955, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,Be7,c3,Nf6,d3,O-O,g4,d5,exd5,Nxd5,Be3,Nxe3,fxe3,Bc5,Qe2,Re8,Nbd2,Na5,O-O-O,Bb6,Rhf1,Be6,Bxe6,Rxe6,Ne4,f6,Qc2,Bxe3+,Kb1,Qe7,Nh4,g6,Rf3,Bg5,Nxg5,fxg5,Ng2,Rf8,Re3,Ref6,Rde1,Rf1,d4,R8f2,Re2,Qf7,dxe5,Rxg2,e6,Rxe1+', 'Rxe1,Rxc2,exf7+', 'https://lichess.org/training/0phWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Pi3m', 'Blitz', 'likan-monstr', 1515, 'DarkoCG', 1612, 'Nf3,d6,d4,Nf6,e3,Nc6,b3,e6,Bb2,Be7,Be2,b6,O-O,Bb7,Re1,Qd7,c4,O-O-O,a4,a5,Nbd2,h5,h3,Nb4,Rc1,d5,cxd5,Nfxd5,Bc4,g5,Bxd5,Bxd5,Ne5,Qe8,Ndf3,f6,Nd3,Nxd3,Qxd3,Bxf3,gxf3,g4,fxg4,hxg4,Qe4,gxh3,Qa8+,Kd7,Qc6+,Kc8,Qa8+,Kd7', 'Qc6+,Kc8,Qxc7#', 'https://lichess.org/training/0Pi3m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0pILG', 'Blitz', 'RichardPrime', 2108, 'morkaa60', 2167, 'e4,c6,d4,a6,Bd3,d5,exd5,cxd5,Bf4,Nc6,c3,Nf6,Nd2,g6,Ngf3,Bg7,O-O,O-O,Re1,Re8,Nf1,Nh5,Bg5,h6,Bh4,Qd6,Ng3,Nf4,Ne2,Nxd3,Qxd3,Bf5,Qd2,Bg4,Bg3,Qd7,Ne5,Nxe5,dxe5,Qb5,Nd4,Qb6,e6,Bxe6,Nxe6,fxe6,Qe2,Rac8,Qxe6+,Qxe6,Rxe6,Rc6,Rae1,Kf7,R6e2,Bf6,h3,e6,Bf4,g5,Bg3,Re7,f3,Re8,Kf1,Re7,Rd1,Rd7,Bf2,Re7,Bg3,Re8,f4,Re7,fxg5,hxg5,Be5,Bxe5,Rxe5,Kf6,Rde1,Rec7,Kg1,Rh7,Kf2,Rh4,Kg3,Rh7,Kf3,Rh4,g3,Rxh3,Kg4,Rh2,Rxg5,Rxb2,Rf1+,Ke7,Rg7+,Kd6,Rff7,Rcb6,Rd7+,Kc5,Rc7+,Kd6,Kf4,e5+,Kf5,Rf2+,Kg5,Rfb2,Rgd7+,Ke6,Re7+,Kd6,Red7+,Ke6,Rh7,e4', 'Rh6+,Ke5,Re7+,Re6,Rhxe6#', 'https://lichess.org/training/0pILG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0PNjo', 'Rapid', 'Desede', 1634, 'aymen_fadil', 1710, 'Nf3,c6,d4,d5,c4,Bg4,Nc3,Bxf3,exf3,e6,Bd3,Nf6,O-O,c5,dxc5,Bxc5,f4,Nc6,f5,d4,Na4,Bd6,c5,Bc7,fxe6,fxe6,Re1,O-O,Rxe6,Re8,Bc4,Rxe6,Bxe6+,Kf8,Qf3,Qe7,Bd5,Qe5,g3,Qe1+,Kg2,Ne5,Qf5,Ng4,c6,bxc6,Bxc6,d3,Bxa8,d2,Bxd2,Qxd2,Rf1', 'Ne3+,Kg1,Nxf5', 'https://lichess.org/training/0PNjo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0PoBF', 'Rapid', 'Dejokz', 2030, 'Dmytro123', 1917, 'd4,g6,e4,Bg7,Nc3,d6,f4,Nf6,Nf3,O-O,Be2,c5,O-O,cxd4,Nxd4,Nc6,Be3,Nd7,f5,Nc5,Qd2,Bd7,Rad1,a6,Nxc6,Bxc6,Nd5,Nxe4,Qd3,Bxd5,Qxd5,Nf6,Qb3,b5,fxg6,hxg6,Bd3,d5,Rf3,Ng4,Bxg6,Nxe3,Rxe3,fxg6', 'Rxd5,Rf7,Rxd8+', 'https://lichess.org/training/0PoBF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0PoHZ', 'Rapid', 'VladimirMaisner', 1678, 'drago007', 1685, 'e4,c5,Bc4,Nc6,Nf3,e6,c3,d5,exd5,exd5,Bb5,Bd6,O-O,Ne7,d4,Bd7,Bg5,O-O,Bxc6,Bxc6,dxc5,Bxc5,Ne5,f6,Nxc6,bxc6,Bf4,Ng6,Bg3,Re8,a4,a5,Qd2,Ne5,Bxe5,Rxe5,b4,axb4,cxb4,Bd6,a5,Qb8,Ra4,Re4,Qc3,Bxb4,Qxc6,Qe8,Qxd5+,Kh8,Nc3,Re1,Ne4,Rd8,Qf5,Rdd1,Ng3,Rxf1+,Nxf1', 'Rxf1+,Kxf1,Qe1#', 'https://lichess.org/training/0PoHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ppsI', 'Rapid', 'Masdache', 1683, 'untacchina', 1814, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be6,Be3,Be7,Bd3,Nc6,Qd2,Qd7,Bb5,a6,Ba4,O-O-O,Nd4,b5,Bb3,Rde8,a4,b4,Nxc6,Qxc6,O-O,bxc3,bxc3,Bc4,Bxc4,Qxc4,Rab1,Bf6,Ba7,Bxc3,Qg5,h6,Qf5+,Qe6,Qf3,Qc4,Rb8+,Kd7,Qh3+,Kc6,Qf3+,d5,Rxe8,Rxe8,Qxf7', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/0ppsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0PR1u', 'Blitz', 'NM the39clues', 2297, 'MoveAndLose', 2332, 'e4,c6,Nf3,d5,Nc3,Bg4,h3,Bxf3,Qxf3,e6,d4,Nf6,Bg5,dxe4,Nxe4,Nbd7,Bd3,Qa5+,Bd2,Qd5,O-O,Qxd4,Bc3,Qd5,Bxf6,Nxf6,Nxf6+,gxf6,Qxf6,Rg8,g3,Bc5,Kh2,Qg5,Qf3,h5,c3,Rh8,b4,Bd6,Kg2,h4,Rfe1,hxg3,fxg3,O-O-O,b5,cxb5,a4,Rdg8,g4,Qd2+,Re2,Qxc3', 'Rc2,Qxc2+,Bxc2', 'https://lichess.org/training/0PR1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0pStu', 'Rapid', 'domcrau', 1664, 'ChrisMuc', 1685, 'f4,d5,d4,e6,Nf3,Nc6,e3,Nf6,Bb5,Bd7,O-O,a6,Bd3,g6,c4,dxc4,Bxc4,b5,Bd3,Nb4,Nc3,Nxd3,Qxd3,Bd6,Bd2,O-O,Be1,c5,Bh4,Be7,Ne5,c4,Qe2,Nd5,Bxe7,Qxe7,Nxd5,exd5,Nxd7,Qxd7,Qf3,f5,Qh3,Rf7,Rf3,Re8,Rg3,Rf6,Qh4,Qe7,Qg5,Re6,Qxe7,R8xe7,Kf2,a5,h4,h5,Re1,b4,Ke2,Kf7,Kd2,Rc6,Kc2,c3,b3,a4,bxa4,Ra7,Kb3,Rca6,Kxb4,Rxa4+,Kxc3,Rxa2,Rb1,Rc7+,Kb3,Re2,Ka3', 'Ra7+,Kb4,Rb7+', 'https://lichess.org/training/0pStu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0PuYY', 'Blitz', 'GM jncool68', 2650, 'QingsGambit', 2598, 'e4,e6,Nf3,d5,Nc3,d4,Ne2,c5,c3,Nc6,Ng3,h5,h4,Nf6,Bb5,Bd7,Ng5,Ne5,Bxd7+,Qxd7,O-O,d3,f4,Neg4,Qf3,c4,b3,b5,e5,Nd5,f5,O-O-O,a4,Bc5+,Kh1,cxb3,axb5,Qxb5,Nxf7,Rhf8,Nxd8,Kxd8,Bb2,Qc4,Qe4,Qxe4,Nxe4,Be7,Rxa7,Rxf5,Rfa1,Rxe5,c4,Rxe4,cxd5,exd5,Rb7,Ke8,Rxb3,Re2,Bc3,Bxh4,Rb7,Be7,Bb4,h4,Bxe7,Rxe7,Rxe7+,Kxe7,Ra4,Nf2+,Kg1,Ne4,Rd4,Nxd2,Rxd3,Ne4,Rxd5,Nf6,Rg5,Kf7,Kh2,g6,Kh3,Nh7,Ra5,g5,Kg4,Kg6,Ra6+,Nf6+,Kf3,Kf5,Ra5+,Kg6,Re5,Kf7,Ke3', 'Ng4+,Kd4,Nxe5,Kxe5,Kg6', 'https://lichess.org/training/0PuYY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0pWcS', 'Rapid', 'touya94732', 1775, 'jeloz', 1781, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Nxc3,g6,Bc4,e6,e5,Bg7,Ne4,Nxe5,Nd6+,Kf8,Bf4,Nxc4,Nxc4,Ne7,Nd6,Bxb2,Bh6+,Bg7,Qd4,Bxh6,Qxh8+,Ng8,Qxh7', 'Qa5+,Kf1,Qa6+,Kg1,Qxd6', 'https://lichess.org/training/0pWcS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0PwL1', 'Blitz', 'WIM PHOENIXME', 2296, 'CM Samjrao', 2204, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bc4,e6,O-O,Be7,Be3,O-O,f3,Bd7,Bb3,Na5,Kh1,a6,f4,Rc8,e5,Ne8,Ne4,Nxb3,axb3,Qc7,exd6,Nxd6,Nxd6,Bxd6,c3,e5,fxe5,Bxe5,Nf3,Bf6,Bd4,Bxd4,Qxd4,Bc6,Ne5,Rcd8,Qf4,Rd5,Rae1,h6,c4,Rdd8,h3,Rfe8,Qh2,f6,Nxc6,Qxc6,Qf4,Rxe1,Rxe1,Re8,Rd1,Re2,Rd8+,Kf7,Qg4', 'Re1+,Kh2,Qc7+', 'https://lichess.org/training/0PwL1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0pxxY', 'Blitz', 'Hunsrueck', 1660, 'Notokorden', 1660, 'd4,d5,c4,Nf6,Nc3,Bd7,Nxd5,Nxd5,cxd5,e6,dxe6,Bxe6,e3,Nd7,Nf3,Nb6,Bd3,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O,Nc4,Qc2,Nb6,Bxh7+,Kh8,Bf5,Bxf5,Qxf5,g6,Qe5+,f6,Qb5,c6,Qb3,Kg7,a4,Qd6,a5,Nd5,Qa3,Qc7,Rad1,Rh8,e4,Nf4,Rd2,g5,d5,g4,d6,Qd7,Nd4,g3,fxg3,Ne6,Nxe6+,Qxe6,d7,Rad8,Rfd1,Qxe4,Qd3,Qe6,Qd6,Qe3+,Kh1', 'Rxh2+,Kxh2,Rh8#', 'https://lichess.org/training/0pxxY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0pZdV', 'Blitz', 'kraken28', 1892, 'Deepanalyzer', 1902, 'e4,c5,Nf3,d6,d4,Nf6,Nc3,cxd4,Nxd4,Nc6,Be3,e5,Nb3,Be7,Bd3,O-O,O-O,Ng4,Nd5,Nxe3,fxe3,Bg5,Qf3,Be6,Qg3,Bh6,Nd2,Bxd5,exd5,Nb4,Nb3,Nxd5,e4,Nf4,Rad1,Qb6+,Kh1,Rac8,Qf3,a5,g3,Nxd3,cxd3,a4,Nd2,Qxb2,Nc4,Qd4,a3,b5,Na5,Qb6,Nb3,axb3,Rb1,Qd4,Rxb3,Rc3,Rxb5,Rxd3', 'Qxf7+,Rxf7,Rb8+,Rf8,Rfxf8#', 'https://lichess.org/training/0pZdV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0q3gf', 'Rapid', 'iron_chess_06', 1972, 'ab4040', 1741, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,Bb4,Bd3,a5,a3,Bxc3+,bxc3,O-O,Be3,d5,exd5,Nxd5,Qd2,Nxe3,Qxe3,Re8,Rd1,Nd4,O-O,Nxb3,Bxh7+,Kxh7,Rxd8,Rxd8,cxb3,f6,Qe4+,Kg8,Qc4+,Kh8,f4,exf4,Qxf4,Be6,c4,Rd7,Qe4,Bf7,Re1,Rad8,Re3,Rd1+,Kf2,R8d2+,Kg3,Rg1,Re2,Rd8,Qxb7,Rf1,Qxf7,Rd3+,Kg4,Rd4+,Kh5', 'Rf5+,Kg6,Rg5#', 'https://lichess.org/training/0q3gf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0q9CU', 'Blitz', 'CM Voorzitter-HMC', 2422, 'ErwinenMax', 1812, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bf5,c4,Nb4,Na3,e6,Qa4+,N8c6,Be3,Bd3,Rd1,Bxf1,Kxf1,Qd7,g3,Be7,Kg2,O-O,Rhe1,f5,d5,exd5,cxd5,Nxd5,Qb3,Rad8,Nb5,Kh8,Nxc7', 'Nxe3+,Qxe3,Qxc7', 'https://lichess.org/training/0q9CU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qagy', 'Rapid', 'Penoxa', 1754, 'paolo1469', 1818, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,a6,Be2,Nf6,f3,O-O,g4,b5,Qd2,b4,Na4,a5,h4,Nxd4,Bxd4,Ba6,O-O-O,Bxe2,Qxe2,d6,f4,Qe8,b3,e5,fxe5,dxe5,Bc5,Qc6,Bxf8,Bxf8,h5,Nxe4,hxg6,fxg6,Qg2,Rc8,Rhe1,Bh6+,Kb2,Nc3,Qxc6', 'Nxd1+,Rxd1,Rxc6', 'https://lichess.org/training/0qagy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qb91', 'Classical', 'tayfunaydin', 1722, 'chess_daus', 1699, 'e4,g6,d4,Bg7,e5,d6,Nf3,dxe5,c3,exd4,Bc4,Nf6,O-O,dxc3,Qxd8+,Kxd8,Nxc3,e6,Ne5,Ke7,Bg5,h6,Bh4,g5,Bg3,Rd8,Rfd1,Rxd1+,Rxd1,Kf8', 'Rd8+,Ke7,Rxc8', 'https://lichess.org/training/0qb91');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qbP3', 'Rapid', 'hover', 1873, 'jazzlolita', 1884, 'd4,e6,c4,d6,Nc3,c6,Nf3,Be7,e3,f5,Be2,Nf6,O-O,O-O,h3,Nbd7,Ng5,Nb6,b3,h6,Nf3,Ne4,Bb2,Bd7,Bd3,d5,c5,Nc8,Ne5,b6,Ng6,Rf6,Nxe7+,Qxe7,b4,a5,a3,bxc5,bxc5,Rb8,Qc2,Na7,Rab1,Nb5,Bxe4,fxe4,Nxb5,cxb5,Bc3,a4,Rb4,Bc6,Kh1,Qf8,Rb2,g5,Ba5,Qe8,Bc7,Rb7,Be5,Rf5,Qe2,Qg6,Rbb1,h5,f3,exf3,Rxf3,Rxf3,Qxf3,Qxb1+,Kh2,Rf7,Qxh5,Qh7', 'Qxg5+,Kf8,Qd8+', 'https://lichess.org/training/0qbP3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qdTF', 'Bullet', 'Peonovato', 1840, 'Guestopedda', 2063, 'e4,c5,Nf3,e6,g3,Nc6,Bg2,g6,O-O,Bg7,d3,Nge7,Nc3,h6,Re1,O-O,Bf4,d6,Qc1,Kh7,h4,e5,Bd2,Bg4,Nh2,Be6,Ne2,Qd7,c4,f5,f3,Nd4,Nxd4,exd4,b3,Nc6,Qc2,fxe4,fxe4,Bh3,Rf1,Bxg2,Kxg2,Ne5,Rae1,h5,Bg5,Bh6,Bxh6,Kxh6,Qd2+,Kg7,Rf4,b6,Ref1,Rxf4,Qxf4,Nxd3,Qf6+,Kh7,Nf3,Rg8,Ng5+,Kh6,Nf7+,Kh7,Rf5,Ne5', 'Rxh5+,gxh5,Qh6#', 'https://lichess.org/training/0qdTF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Qg8N', 'Rapid', 'VasiliyPupkin234', 1785, 'seu77', 1747, 'e4,d5,exd5,c6,Nc3,cxd5,d4,Nc6,Nf3,Bg4,Bb5,a6,Bxc6+,bxc6,h3,Bh5,Bf4,e6,a3,Qa5,g4,Bg6,Ne5,Be4,f3,Bg6,Nxc6,Qb6,Ne5,Qxb2,Nxg6,Qxc3+,Bd2,Qxd4,Nxh8,Bc5,Rf1', 'Qe5+,Qe2,Qxa1+', 'https://lichess.org/training/0Qg8N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0QH2I', 'Blitz', 'brunokrams', 1601, 'vysotskiial', 1606, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bb5,Bd7,O-O,Nf6,Nc3,e6,Bf4,Bb4,a3,Be7,Bxc6,bxc6,Ne5,O-O,b4,a5,bxa5,Rxa5,Qd2,Qa8,Bg5,Be8,Ng4,Qd8,Nxf6+,Bxf6,Bxf6,Qxf6,Ne4,Qd8,Nc5,Qa8,f4,f6,Nxe6,Rf7,Nc5,Rxa3,Rxa3,Qxa3,c3,Re7,Re1,Rxe1+,Qxe1,Bg6', 'Qe6+,Bf7,Qc8+,Be8,Qxe8#', 'https://lichess.org/training/0QH2I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0QJ9U', 'Classical', 'The_Botvinnik', 1669, 'rifa-92', 1601, 'e4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qa4,b6,Bg5,Be7,h4,h6,Bf4,O-O,O-O-O,Ng4,Rd2,Bf6,Nd5,Bb7,f3,Bxd5,Rxd5,Nf2,Rh2,Bxb2+,Kb1,Bd4,c3,Bxc3,Be3,Qc7,f4,Nxe4,Rxd7,Qc8,Rxa7,Qf5,Rxa8', 'Nd2+,Kc1,Qb1#', 'https://lichess.org/training/0QJ9U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0QjQl', 'Rapid', 'Abject_Pawn', 1836, 'connor-da-genius', 1896, 'e4,c5,c3,e6,d4,d5,e5,Ne7,Nf3,Nec6,Bg5,Be7,Qd2,h6,Be3,b6,dxc5,bxc5,Bd3,Nd7,O-O,Ndxe5,Nxe5,Nxe5,Bc2,Nc4,Qd3,Nxe3,Qxe3,Bb7,Ba4+,Kf8,Nd2,Rc8,Nf3,Bc6,Bc2,Qd6,Ne5,Bb5,Qf4,Bf6', 'Ng6+,fxg6,Qxd6+', 'https://lichess.org/training/0QjQl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qKSL', 'Rapid', 'dilancr', 1810, 'SSDharmawansa', 1857, 'e4,e5,Nc3,Bc5,Nf3,Nc6,d3,Nf6,Be2,O-O,Bg5,h6,Bh4,Re8,O-O,Nd4,Nxd4,Bxd4,Nd5,g5,Bg3,c6,Nxf6+,Qxf6,c3,Bb6,Bg4,d5,Bxc8,Raxc8,exd5,cxd5,Re1,a5,Rf1,Rc6,Kh1,Rce6,Qd2,e4,dxe4,dxe4,f3,e3,Qe2,Rd6,Rad1,Rxd1,Rxd1,Qe6', 'Rd6,Qxa2,Rxb6', 'https://lichess.org/training/0qKSL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qnmf', 'Rapid', 'harmlessgambit', 1948, 'Yashwant-jha', 1951, 'e4,e5,f4,b6,Nc3,Nc6,Nf3,exf4,d4,a6,Bc4,Be7,Bxf4,Bb7,d5,Na5,Bd3,Nf6,b4,Bxb4,Qd2,Bxd5,exd5,Nxd5,Be5,f6,Bg6+,hxg6,Qxd5,fxe5,Qxe5+,Qe7,Kd2,Qxe5,Nxe5,O-O,a3,Rf2+,Kd3,Bxc3,Kxc3,d6,Nxg6,Rxg2,Rag1,Rxg1,Rxg1,Re8,Rg3,Nc6,Nf4,Rf8,Nd5,Rf7,h4,Ne5,Kb2,b5,h5,Kh7,Nb4,a5,Nd5,c6,Ne3,a4,Rg5,Rf3,Nf5,Nc4+,Ka2,Rxa3+,Kb1,Rf3,Rxg7+,Kh8,Rf7,Rf1+,Ka2,Rf2,Rf8+,Kh7,Rf7+,Kg8', 'Nh6+,Kh8,Rxf2', 'https://lichess.org/training/0qnmf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qPHV', 'Rapid', 'Aso1973', 1913, 'jack_stymers_87', 1812, 'd4,e6,Bf4,f5,e3,Nf6,Nd2,Be7,c3,O-O,Bd3,d6,e4,fxe4,Bc4,d5,Bb3,c6,h4,b5,Be5,Nfd7,Bg3,a5,h5,a4,Bc2,Bf6,Qg4,e5,h6,g6,dxe5,Bxe5', 'Qe6+,Rf7,Bxe5,Nxe5,Qxe5', 'https://lichess.org/training/0qPHV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0QqW7', 'Rapid', 'Sergei_Vladimirovich', 1956, 'vavansidorovich', 2020, 'e4,c5,Nf3,Nc6,Bc4,d6,a3,Nf6,d3,g6,h3,Bg7,c3,a6,Be3,b5,Ba2,O-O,O-O,Bb7,Qd2,c4,dxc4,Nxe4,Qc1,Na5,cxb5,axb5,Bh6,Qb6,Be3,Qc7,Nd4,Qd7,Nd2,Nc5,b4,Nd3,Qc2,Bxd4,Qxd3,Bxe3,fxe3,Nc4,Nxc4,bxc4,Bxc4,Rac8,e4,Qc6,Bd5,Qb6+,Kh1,Bxd5,exd5,e5,dxe6,fxe6,Rxf8+,Rxf8,Rf1,Rxf1+,Qxf1,d5,Qe1,Qd6,Qd2,e5,a4,d4,Kg1,d3,Kf1,e4,Ke1,Qg3+,Kd1,Qh2,Qf2,Qh1+,Kd2,Qa1,Qe1,Qxa4,Qxe4', 'Qc2+,Ke3,Qe2+,Kd4,Qxe4+,Kxe4,d2', 'https://lichess.org/training/0QqW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qSTh', 'Rapid', 'cutekillera', 1961, 'SirZEBO', 2043, 'e4,Nf6,e5,Nd5,c4,Nb6,Nc3,d6,exd6,exd6,Nf3,Bg4,Be2,Qe7,O-O,Nc6,Nd5,Nxd5,cxd5,Nd8,Re1,Qd7,d4,Be7,Bf4,O-O,Rc1,Re8,h3,Bh5,Ng5,Bg6,Bg4,f5,Bh5,Bxg5,Bxg5', 'Rxe1+,Qxe1,Bxh5', 'https://lichess.org/training/0qSTh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0QstX', 'Blitz', 'Noob_Boi_Play_Chess', 2124, 'CM HashemElnami', 2121, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be3,O-O,h3,c6,a4,Nbd7,Bd3,a5,Ne2,e5,c3,exd4,cxd4,c5,O-O,Re8,Ng3,b6,Re1,Bb7,Bg5,h6,Bd2,cxd4,Nxd4,Nxe4,Nxe4,Bxd4,Nxd6,Rxe1+,Bxe1,Nc5,Nxb7,Nxb7,Be4,Rb8,Qf3,Nc5,Rd1', 'Nxe4,Qxe4,Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/0QstX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qTg2', 'Rapid', 'Castelo', 1700, 'herkenstein', 1727, 'd4,b5,Bf4,Nf6,e3,b4,c3,e6,Nd2,bxc3,bxc3,Nd5,Qf3,Nc6,e4,Nxf4,Qxf4,Ba3,Ngf3,Bb2,Rb1,Bxc3,e5,O-O,Bd3,Nb4,Bxh7+,Kh8,Be4,g6,Ng5,Kg7,Bxa8', 'Nd3+,Kd1,Nxf4', 'https://lichess.org/training/0qTg2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qxUE', 'Rapid', 'Rndrps', 1974, 'barsuk80', 2020, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,Nge7,Bd3,c4,Bc2,Ng6,O-O,Be7,b3,b5,a4,cxb3,Bxb3,bxa4,Bxa4,Bd7,Ba3,Bxa3,Nxa3,O-O,Nb5,Na5,Nd6,Nc4,Nxc4,dxc4,Bxd7,Qxd7,Qa4,Qd5,Nd2,Rfc8,Rfb1', 'Nf4,Nf3,Ne2+,Kf1,Nxc3', 'https://lichess.org/training/0qxUE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qyV3', 'Rapid', 'kampana', 1613, 'laingla', 1547, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,Nf6,d3,e6,h3,Bxf3,Bxf3,c6,Bg5,Be7,O-O,Nbd7,Re1,h6,Bh4,O-O,Ne4,Nxe4,Bxe7,Qxe7,Bxe4,Qb4,Rb1,Rfe8,a3,Qc5,d4,Qg5,Re3,Rad8,Rg3,Qf6,c3,Nc5,Qg4,Nb3,Re1,Nd2,Ree3,Nc4,Ref3,Qg5,Qxg5,hxg5,b3,Nxa3,Rxg5,Nb5,Rh5,Nd6,Bh7+,Kf8,Bg6,Ke7,Rh7,Rg8,Bd3,Ne8,c4,Rxd4,Rg3,Nf6,Rhxg7,Rxg7,Rxg7,Rxd3,Rg3,Rxg3,fxg3,Nd7,h4,Kf6,Kh2,Kg6,Kh3,Kh5,g4+,Kh6,Kg3,Nc5,b4,Na4,Kf4,Nb6,c5,Nd5+,Ke5,Nxb4,Kf6,a5,Kxf7,a4', 'g5+,Kh5,g6,a3,g7,a2,g8=Q', 'https://lichess.org/training/0qyV3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0qZNR', 'Rapid', 'Luis-Monaco-01', 1674, 'fatemeee98', 1659, 'Nc3,e5,e4,Nc6,a3,a6,Bc4,Nf6,f4,d6,Nf3,h6,O-O,Na5,Ba2,c6,fxe5,Ng4,h3,Nxe5,Nxe5,dxe5,Bxf7+,Ke7,d4,exd4,Qh5,dxc3,Qe5+,Kd7,Qe6+,Kc7,Bf4+,Bd6,Bxd6+,Qxd6,Qxd6+,Kxd6,Rad1+,Kc7,bxc3,Kb8,e5,Ka7,e6,Nc4,Rde1,Nd6,e7,Nxf7,Rxf7,Bd7,Rxg7,a5,Rd1,Rhg8', 'Rxg8,Rxg8,Rxd7', 'https://lichess.org/training/0qZNR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0r2W0', 'Classical', 'pzaaa', 1855, 'Vic07', 1963, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,a6,Be3,Bd7,Qd2,b5,Nxc6,Bxc6,Nd5,Bxd5,Qxd5,Qc8,O-O-O,Nf6,Qf5,g6,Qxc8+,Rxc8,f3,Bg7,g4,O-O,h4,Nd7,h5,Ne5,hxg6,fxg6,f4,Nxg4,Re1,Nxe3,Rxe3,Rxf4,Bh3,Rcf8,Ra3,Rxe4,Rxa6,Ra4,Rb6,b4,Rb7,Bf6,Bd7,Rxa2', 'Be6+,Kg7,Bxa2', 'https://lichess.org/training/0r2W0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0r3wf', 'Rapid', 'Rutvikbhatt', 1730, 'Rajan23', 1900, 'c4,c5,Nc3,Nc6,e3,g6,d4,cxd4,exd4,Bg7,d5,Ne5,Bd3,Nxd3+,Qxd3,d6,Nge2,Bf5,Qd2,Bh6,f4,Nf6,O-O,O-O,Ng3,Bd7,b3,e5,Bb2,exf4,Rxf4,Bxf4,Qxf4,Nh5,Nxh5,gxh5,Qg3+,Kh8,Ne4+,f6,Qh4,Qb6+,Kh1,Qe3,Nxf6,Qe2,Nxd7+,Qxb2,Re1,Rfe8,Rf1,Qg7,Nf6,Re2,g3,Rf8,Kg1,Re7,Nxh5,Rxf1+,Kxf1,Rf7+,Kg1', 'Qa1+,Kg2,Qf1#', 'https://lichess.org/training/0r3wf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0raTF', 'Rapid', 'Yolozaen', 1744, 'vvt_sgt', 1750, 'e4,g6,d4,Bg7,Nf3,h6,Bd3,a6,c4,e6,Nc3,Ne7,d5,d6,Be3,e5,Qd2,Nd7,b4,b6,a4,Bb7,O-O,c5,bxc5,bxc5,Ne2,Nf6,Ng3,a5,Rab1,Ba6,Rb2,Ng4,Rfb1,Nxe3,fxe3,O-O,Rb6,Qc7,Qxa5,Bxc4,Qd2,Bxd3,Qxd3,Rxa4,Qb3,Qa7', 'Rb7,Qa5,Rxe7', 'https://lichess.org/training/0raTF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0rEgR', 'Rapid', 'oleksandr1111', 1771, 'tihomir67', 1862, 'e4,e5,Nf3,d6,Bc4,c5,Nc3,Bg4,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/0rEgR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Rf5s', 'Rapid', 'T_S_Patil1', 1898, 'gabo90', 1803, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bf5,Nc3,Nf6,Bd3,Bg4,h3,Bh5,Be3,e6,g4,Bg6,Ne5,Bb4,a3,Bxc3+,bxc3,Ne4,Bxe4,dxe4,O-O,Qc7,Qd2,f6,Nxg6,hxg6,Kg2,Kf7,Bf4,Qc6,Qe3,Nd7,Rfe1,f5,g5,Rh4,Bg3,Rh5,h4,Rah8,Rab1,Nb6,Rxb6,Qxb6,c4,Rc8,c5,Qc6,Rb1,Qd5,c4,Qxc4,Rxb7+,Kg8,Rxa7,Rd8,Be5,Rxh4,Rxg7+,Kf8,Rxg6,Rg4+,Kh2,Qf1,Bg3', 'f4,Qb3,fxg3+', 'https://lichess.org/training/0Rf5s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0RgEi', 'Classical', 'd52276ev', 1812, 'kazde', 1798, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Nxd4,Nf6,O-O,Nxe4,Re1,d5,Bb3,Bc5,c3,O-O,Be3,Nf6,Bc2,b6,b4,Bxd4,Bd2,Bxf2+,Kxf2,c5,Kg1,Bb7,Bf4,Ne4,Qg4,Qf6,Nd2,Nxc3', 'Be5,Qg5,Qxg5', 'https://lichess.org/training/0RgEi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0rgiR', 'Rapid', 'zAmazed', 1957, 'Allami1000', 1998, 'd4,Nf6,c4,e6,Nc3,b6,e4,d6,Nf3,Nbd7,Bd3,Bb7,O-O,c5,d5,exd5,exd5,Be7,Re1,O-O,h3,h6,Bf4,Nh7,Qc2,Ndf6,Bh2,Bc8,Re2,Bd7,Rae1,Re8,Bxh7+,Nxh7,Ne4,f5,Nxd6,Bxd6,Bxd6,Rxe2,Rxe2,Qf6,Bh2,f4,Re4', 'Bf5,Qe2,Bxe4', 'https://lichess.org/training/0rgiR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Rgpm', 'Rapid', 'AlchPortugal', 2034, 'hazak3', 2051, 'd4,d5,Bf4,Bf5,e3,e6,Bd3,Nf6,Bxf5,exf5,Nf3,Be7,O-O,O-O,c4,dxc4,Qc2,Nd5,Bg3,Nb6,Qxf5,g6,Qe4,c6,Rc1,N8d7,Nbd2,Nf6,Qc2,Nh5,Be5,f6,Bf4,Nxf4,exf4,Bd6,g3,Kg7,Nxc4,Nxc4,Qxc4,h5,Nh4,f5,Nf3,Re8,Re1,Qf6,Rac1,Rad8,Qb3,Re7,Rxe7+,Qxe7,Ng5,Rd7,Kf1,c5,Ne6+,Kh6,dxc5,Bb8,Re1,Qf6,c6,Re7,cxb7,h4,Ng5', 'Qa6+,Kg2,Rxe1', 'https://lichess.org/training/0Rgpm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0rH7J', 'Blitz', 'hanysayed', 2285, 'CM FourNinetySix', 2444, 'c4,c5,Nf3,Nc6,Nc3,g6,d4,cxd4,Nxd4,Bg7,e3,Nxd4,exd4,Nf6,Be2,d5,O-O,dxc4,Bxc4,O-O,h3,b6,Re1,Bb7,Bf4,Rc8,Bb3,e6,Rc1,Nd5,Be5,Nxc3,bxc3,Bd5,c4,Bb7,Bxg7,Kxg7,d5,exd5,cxd5,Rxc1,Qxc1,Qd6,Qc3+,Kg8,Qe5,Rd8,Qxd6,Rxd6,Re7,Bxd5,Bxd5,Rxd5,Rxa7,Rd1+,Kh2,Rd2,f4,h5,Kg3,Kg7,Ra6,Rb2,Kf3,Kf6,a4,Rb3+,Ke4,Rb4+,Ke3,Kf5,a5,b5,Rb6,Rb3+,Kd4,Kxf4,Rf6+,Kg3', 'Rf3+,Rxf3,gxf3', 'https://lichess.org/training/0rH7J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0RHBW', 'Rapid', 'edras_brasil', 1958, 'liamschauerman', 1991, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nb3,Be6,Bg5,Be7,Be2,Nbd7,O-O,Rc8,f4,O-O,Kh1,Bc4,Bxf6,Bxe2', 'Bxe7,Bxd1,Bxd8', 'https://lichess.org/training/0RHBW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0RKs8', 'Bullet', 'Dolana', 2024, 'Samklein52', 2106, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nb6,Nc3,g6,Nf3,Bg7,c5,Nd5,Bc4,Nxc3,bxc3,O-O,O-O,Nc6,Re1,Bg4,h3,Bxf3,Qxf3,e5,d5,Na5,Bb3,Nxb3,axb3,f5,Qd1,e4,Bd2,Qxd5,Qc2,Qxc5,b4,Qc4,Ra5,b6,Ra3,Rfd8,Rea1,a5,bxa5,Rxa5,Rxa5,bxa5,Rxa5,Qd3,Qa2+,Kh8,Ra8,Bf6,Qf7,Qb1+,Kh2,Be5+,g3,Rxa8,Bh6,Qf1,Be3,Qb5,c4,Qe8,Qd5,Rd8,Qc5,Bg7,Bf4,Qd7,h4,h5,Bg5,Re8,Be3,Kh7,Qa7,Be5,c5,Qc6,Qa5,Rd8,Qa3,Rd3,Qa2,Qd5,Qa7,Qd7,c6,Qxc6,Qa2,Qd5,Qa7,Qd7,Qb8,Rd6,Qf8,Rf6,Qh6+,Kg8,Qg5,Qg7,Bc5,Re6,Qd8+,Kh7,Qc8,Rc6,Be3,Qf7,Qd8,Bd6,Qg5,Rc2,Qh6+,Kg8,Bd4,Qe6', 'Qg7#', 'https://lichess.org/training/0RKs8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0rldn', 'Blitz', 'KALINATOR', 2215, 'FM HannibaLemon', 2693, 'e4,c5,Nc3,a6,g3,b5,Bg2,Bb7,Nge2,e6,O-O,Nf6,d4,b4,Na4,cxd4,Nxd4,Bxe4,Re1,Bxg2,Kxg2,Be7,Qf3,d5,Rxe6,fxe6,Nxe6,Qd7,Nxg7+,Kf7,Nb6,Qc6,Nxa8,Kxg7,Bf4,d4,Qxc6,Nxc6,Nc7,Rc8,Nxa6,Nd5,a3,bxa3,bxa3,Nxf4+,gxf4,Ra8,Nc7,Rxa3,Rxa3,Bxa3,Kf3,Bd6', 'Ne8+,Kf8,Nxd6', 'https://lichess.org/training/0rldn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0RLJ8', 'Classical', 'rizka10', 1707, 'Alrehaima-Muhammed', 1704, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,f6,exf6,Qxf6,Bd2,Nd4,a3,Bc5,Ne4,Nxf3+,exf3,Bxf2+,Nxf2,Nxf2,Kxf2,Qd4+,Ke1,Qxb2,Qe2+,Kf7,Rc1,Qxa3,Qe5', 'Re8,Qxe8+,Kxe8', 'https://lichess.org/training/0RLJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0rmmY', 'Rapid', 'batmanfinger', 1660, 'max6910', 1652, 'e4,Nc6,Nf3,d6,d4,e5,d5,Na5,Bd2,b6,Bb5+,Bd7,Bd3,Nf6,O-O,g6,h3,Bg7,Nc3,Qe7,Bb5,O-O-O,Ba6+,Kb8,Nb5,Nb7,Qe2,Nxe4,Qxe4,Nc5,Bg5,Nxe4,Bxe7,Rde8,Bg5,Nc5,Nxd6,cxd6,Bc4,h6,Be3,e4,Nd4,Na4,Bb5,Bxb5,Nxb5,Nxb2,Nxd6,Ref8,Rab1,Na4,Bf4,a6,Nxf7+,Kb7,Nxh8,Bxh8,Bxh6,Rd8,Rfd1,Nc3,Bg5,Rd7,Re1,Nxb1,Rxb1,Rxd5,Be3,Bd4,c4,Rd8,c5,Bxe3', 'Rxb6+,Ka7,fxe3', 'https://lichess.org/training/0rmmY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0rNRB', 'Rapid', 'Diagonalle', 1946, 'Panzerby', 1958, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,e5,dxe5,Nxe5,Qc7,Re1,g6,Nc3,Bg7,Nb5,Qd8,d4,a6,Na3,cxd4,Nac4,O-O,Bf4,Nc6,Nxc6,bxc6,Qf3,c5,Ne5,Nd5', 'Nc6,Qb6,Qxd5', 'https://lichess.org/training/0rNRB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0RQ84', 'Rapid', 'tintin10', 1742, 'William-Colombia', 1606, 'e4,e5,Nf3,Nc6,d4,Bd6,d5,Nce7,Bg5,h6,Bh4,Nf6,Nc3,Bb4,Bxf6,gxf6,Bc4,d6,Qd3,Ng6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf4,Qb5,Qxb5,Nxb5,O-O,Nxc7,Rac8,Nb5,Rxc2,a3,Bc5,b4,Bb6,Nxd6,Kh7,Nxb7,Rg8,Nh4,Nh3+,Kh1,Nxf2+,Kg1,Nxe4+,Kh1,Nf2+,Kg1,Nd1+,Kh1,Ne3,Rxf6,Rg7,Nd6,Bd4,Nhf5,Bxa1,Nxe3,Re2,Rf3,e4,Nxe4,Bd4,Nf6+,Kg6,Ne8,Bxe3,h4,Rg8,Rg3+,Kh7', 'Nf6+,Kh8,Rxg8#', 'https://lichess.org/training/0RQ84');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0RrIX', 'Rapid', 'Sacmaniac', 1935, 'mattiassund', 2065, 'd4,Nf6,Bf4,c5,e3,Qb6,b3,Nc6,d5,Nb4,c4,g6,Nc3,Bg7,Nb5,Na6,Nf3,d6,a3,Bd7,a4,Nb4,Rc1,O-O,Be2,Rfe8,h3,Ne4,Nd2,Bxb5,Nxe4,Bd7,O-O,Qc7,h4,h6,Bh2,Bf5,Ng3,Bd7,Ne4,Qc8,f4,Bf5,Bf3,Na2,Rc2,Bxe4,Bxe4,Nc3,Qf3,a6,Bd3,b5,e4,bxa4,bxa4,Nxa4,e5,e6,exd6,Qd8,dxe6,Rxe6,f5,Rf6,Qc6,Nb6,fxg6,Rxf1+,Kxf1,Qf6+,Kg1,Qd4+,Kh1', 'Qa1+,Bg1,Bd4', 'https://lichess.org/training/0RrIX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0rt7q', 'Rapid', 'TheGreatSac', 2120, 'Allenfawks', 2083, 'c4,e5,Nc3,Nf6,Nf3,d6,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,e4,g6,Be2,Bg7,O-O,O-O,Be3,Bb7,e5,dxe5,Qxd8,Rfxd8,Rad1,Nd7,Bg5,f6,Be3,f5,Bg5,Nf6,c5,a5,Rxd8+,Rxd8,Rd1,Rxd1+,Nxd1,h6,Bd2,Ne4,Bxa5,Nxc5,Bc4+,Kf8', 'Bb4,Bf6,Bxc5+', 'https://lichess.org/training/0rt7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0RuqZ', 'Classical', 'vusaliyev87', 1603, 'KCCan', 1644, 'e4,c5,d4,cxd4,Nf3,d5,Nbd2,Nc6,Bb5,Qa5,a4,dxe4,Nxd4,Bd7,Nxc6,bxc6,Bc4,Nf6,O-O,Qc5,b3,Bg4,Qe1,Qd4,Ba3,e5,Bxf8,Rxf8,Qe3,Nd5,Qxd4,exd4,Nxe4,Nf4,Rae1,Be6,Nc5,Ke7,g3,Nd5,Re5,Kd6,Rxe6+,fxe6,Ne4+,Kc7,Ng5,Kd6,Re1,Rae8,Nxh7,Rf5,f4,e5,Ng5,Ne3,Ne4+,Kc7,Bd3,Rh5,fxe5,Rhxe5,Nf2,a5,Bg6,R8e7,Nd3,Nxc2', 'Rxe5,Rxe5,Nxe5', 'https://lichess.org/training/0RuqZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0rw5M', 'Blitz', 'Rob14', 2334, 'IM EricRosen', 2462, 'Nf3,e5,d4,e4,Ng1,d5,e3,Nf6,Ne2,Nc6,Ng3,h5,h4,Bd6,Ne2,Ng4,g3,Qf6,Nf4,Qf5,Be2,f6,Nc3,g5,Nh3,Be6,a3,a5,b3,gxh4,gxh4,Rg8,Bb2,Nxf2,Nxf2,Rg2,Rf1,Bg3,Bf3,exf3,Qd3,Qxd3,cxd3,Rh2,Nd1,Bh3,Rg1,Bg2,Rc1,Rxh4,Rc5,Rd8,Nc3,Bh2,Rf1,Bxf1,Kxf1,Bg3,Nxd5,Rh2,Nxf6+,Kf7,N6e4,Bxf2,Nxf2,Ne7,Rxc7,Rg8,d5,Rgg2,Rc2,Rxf2+,Rxf2', 'Rh1#', 'https://lichess.org/training/0rw5M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0RwEP', 'Blitz', 'IkaPakao', 1821, 'JEF00', 1908, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,f3,a6,Bb3,b5,Nd5,Bb7,Nxf6+,Bxf6,Be3,O-O,Qd2,Nc6,Nxc6,Bxc6,Bh6,Bxb2,Rb1,Bg7', 'Bxg7,Kxg7,Qc3+,f6,Qxc6', 'https://lichess.org/training/0RwEP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ry8Q', 'Rapid', 'popolesimi', 2140, 'chessstrategy', 2136, 'd4,Nf6,c3,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bc5,e3,f6,exf6,Qxf6,Nbd2,O-O,Qb3+,Kh8,Bg3,d6,O-O-O,Bf5,h3,Nge5,Nd4,Bd7,Be2,b5,Nxb5,Rab8,Qc2,Rb7,Nd4,Rfb8,Nxc6,Rxb2,Qxb2,Rxb2,Kxb2,Bxc6,Rhg1,Qd8,Nb3,Qb8,Ka1,Ba3,Rd2,g6,Bxe5+,dxe5,Rgd1,Bd6,f3,Qb6,e4,Qe3,Kb2,Kg7,Bc4,Qb6,Bd5,Bd7,Bc4,a5,Ka1,a4,Nc1,Bc6,Nd3,Qa5,Rc2,h5,Rb1,Qa7,Nb4,Qc5,Bd3,Bd7,a3,Qe3,Rd1,Be6,Re2,Qc5,Kb2,Bb3,Bc2,Bc4,Red2,Be6,Bxa4,Qc4,Ra1,Kf7,Kc2,Ke7,Nd5+', 'Bxd5,Rxd5,Qxa4+', 'https://lichess.org/training/0ry8Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0s3F0', 'Rapid', '2700172', 1774, 'chessotron', 1807, 'e4,e6,f4,d5,e5,Ne7,Nf3,Ng6,c3,Nxf4,Bb5+,Bd7,Bxd7+,Nxd7,d4,Ng6,O-O,c5,Ng5,f6,Nxe6,Qb6,Nxf8,Rxf8,exf6,Rxf6,Re1+,Kf8,Na3,cxd4,Qxd4,Qxd4+,cxd4,a6,Nc2,Rc8,Nb4,Nb6,b3,Rf5,Ba3,Kg8,Re6,Nd7,Rd6,Nf6,Nd3,Nf4,Nxf4,Rxf4,Rd1,Rg4,Bc5,Ne4,Rxd5', 'Nc3,Rd7,Nxd1', 'https://lichess.org/training/0s3F0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0s42V', 'Blitz', 'mksm-darchyk', 2096, 'hruotane', 2223, 'e4,g6,c4,Bg7,d4,d6,Nc3,Nc6,Be3,e5,Nge2,f5,exf5,Bxf5,d5,Nce7,Ng3,Nf6,Nxf5,gxf5,Be2,O-O,O-O,f4,Bd2,Qd7,Qc2,Kh8,Bd3,Rg8,Ne4,Qg4,f3,Qh5,Kh1,Raf8,Rf2,Nf5,Nxf6,Rxf6,Bxf5,Rxf5,Qe4,Bf6,Rg1,Bh4,Rff1,Rfg5,Be1,Bxe1,Qxe1', 'Qxh2+,Kxh2,Rh5+,Qh4,Rxh4#', 'https://lichess.org/training/0s42V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0S6hN', 'Rapid', 'jiranav', 1832, 'miray4402', 1812, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Bc4,d6,h3,Be6,Bxe6,fxe6,d3,O-O,O-O,Nbd7,Ne2,Nh5,Bg5,Qe8,Ng3,Nf4,c3,Bc5,b4,Bb6,a4,a6,a5,Ba7,Nh4,h6,Bxf4,Rxf4,Nf3,Qg6,Nh2,Qxg3,d4,exd4', 'fxg3,dxc3+,Kh1', 'https://lichess.org/training/0S6hN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0s7AJ', 'Rapid', 'Dragon-Dorf', 1910, 'Zaki-wise', 1866, 'd4,d5,c3,Bf5,Nf3,Bxb1,Rxb1,e6,Bf4,Nf6,Qc2,c5,Bxb8,Rxb8,Qa4+,Nd7,Qxa7,cxd4,Nxd4,Bc5,Qa4,O-O,Qd1,e5,Nb3,Bb6,Qxd5,Re8,e3,Qe7,Be2,Nf6,Qb5,Bc7,Qc5,Bd6,Qc4,Rbc8,Qh4,h6,O-O,b6,Rbd1,Bb8,Bb5,Red8,Qh3,Qc7,Ba6,Rxd1,Rxd1,Re8,Bb5,Re7,Qf5,e4,g3', 'Re5,Qf4,Rxb5,Qxc7,Bxc7', 'https://lichess.org/training/0s7AJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0SAos', 'Rapid', 'onlyata', 2148, 'LVG27', 2118, 'd4,d5,Nf3,c5,c4,cxd4,Nxd4,e5,Nf3,e4,Nd4,Nc6,e3,Nf6,Nc3,Bb4,Qa4,Bxc3+,bxc3,Bd7,Qa3,Rc8,cxd5,Nxd5,Bc4', 'Nxd4,cxd4,Rxc4', 'https://lichess.org/training/0SAos');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0SbYR', 'Blitz', 'LordHaze', 1803, 'NAREK_HAKOBYAN', 1679, 'd4,d5,c4,e6,e3,Nf6,a3,Bd7,Nc3,Nc6,Bd3,h6,Bc2,Be7,Bd2,O-O,f4,dxc4,h3,a6,Qe2,b5,O-O-O,a5,g4,b4,g5,bxc3,Bxc3,hxg5,fxg5,Nd5,Qh5,g6', 'Bxg6,fxg6,Qxg6+,Kh8,Qh6+', 'https://lichess.org/training/0SbYR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0sBZU', 'Bullet', 'miranda_less', 1760, 'Riladon', 1748, 'e4,c5,d3,Nc6,Be2,e6,f4,d5,e5,Nge7,Nf3,Nf5,O-O,Ncd4,c3,Nxe2+,Qxe2,Qb6,Kh1,d4,c4,Be7,Nbd2,O-O,Ne4,Bd7,Nfg5,Bc6,Rb1,h6,Nh3,Qa6,a3,b5,b3,bxc4,bxc4,Rab8,Ra1,Qc8,Qg4,Qb7,Nf6+,Bxf6,exf6,g6,Nf2,Kh7,Bd2,a6,Rae1,Rfe8,Ne4,Bxe4,dxe4,Nd6,f5,exf5,exf5,Rxe1,fxg6+,fxg6,Rxe1,Nf5,Qf4,Rf8,Re7+,Nxe7', 'Qxh6+,Kg8,Qg7#', 'https://lichess.org/training/0sBZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0sCCW', 'Blitz', 'roseca58', 1684, 'opgelost', 1681, 'Nf3,d5,g3,Bg4,Bg2,Nc6,O-O,Qd7,b3,O-O-O,Bb2,Bh3,d3,Bxg2,Kxg2,d4,Nbd2,e5,c3,h5,cxd4,exd4,Ne4,Bd6,Nxd6+,Qxd6,a3,f6,b4,g5,Rc1,Ne5,Nxe5,fxe5,Qc2,Qd5+,Kg1,Qd6,Qc5,Qxc5,Rxc5,Re8,Rfc1,Re7,b5,b6,Rc6,h4,a4,hxg3,hxg3,Reh7,Kg2,g4,f3', 'Rh2+,Kf1,Rh1+,Kf2,R8h2#', 'https://lichess.org/training/0sCCW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0SchI', 'Classical', 'elod72', 1846, 'catafalque', 1846, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,e6,Bb5+,Nc6,Bg5,Be7,O-O-O,O-O,h4,h6,Qh3,a6,Bxc6,bxc6,g4,Nh7,Bxh6,gxh6,f4,Kh8,g5,Bd6,Ne2,Qa5,a3,Rab8,Rd3,c5,g6,fxg6,Qxe6,Bxf4+', 'Nxf4,Rxf4,Qe5+,Rf6,Qxb8+', 'https://lichess.org/training/0SchI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0sDI7', 'Classical', 'David3p', 1838, 'GaryThome', 1822, 'e4,b6,d4,Bb7,Bd3,Nf6,Nc3,h6,Nf3,e6,Bf4,Bb4,Qe2,Nh5,Bd2,g5,Ne5,Nf4,Bxf4,gxf4,Qh5,Qf6,O-O,Rg8,Nb5,Na6,Ng4,Qg5,Qxg5,Rxg5,Nxh6,Rg6,Nxf7,Kxf7,c3,Be7,d5,Bc5,b4,Be7,f3,e5,Na3,Rag8,Rf2,c6,Nc4,cxd5,Nxe5+,Kf6,Nxg6,Rxg6,exd5,Rg5,Be4,Nc7,Rd1,Nb5,Rd3,a5,bxa5,Bc5,a4,Nd6,axb6,Bxb6,a5,Bxf2+,Kxf2,Nxe4+,fxe4,d6,c4,Ke5,Kf3,Ba6,Rc3,Kd4,Kxf4,Rxg2,Rh3,Bxc4,Rh6,Kc5,h4,Rf2+,Ke3,Re2+,Kf3,Ra2,Kf4,Rxa5,Rh8,Ra7,h5,Bd3,Ke3,Kc4', 'Rc8+,Kb3,Kxd3', 'https://lichess.org/training/0sDI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Se6R', 'Blitz', 'FRUllrich', 2213, 'datiker66', 2559, 'e4,c5,Nc3,e6,f4,a6,Nf3,Nc6,d3,d5,g3,Nf6,e5,Nd7,Bg2,b5,O-O,Be7,Qe1,O-O,g4,Qc7,Qg3,Bb7,Ne2,Rac8,c3,b4,d4,cxd4,cxd4,a5,f5,Qb6,Kh1,Ba6,Re1,Bxe2,Rxe2,Nxd4,Re1,Nc2,g5,Bc5,g6,Nxa1,gxh7+,Kh8,f6,Nxf6,exf6,gxf6,Bh6,Rg8,hxg8=Q+,Rxg8,Qh4,Rg6,Rxa1,Kg8,Rc1,b3,Be3,bxa2,Bxc5,Qxb2,Rg1,a1=Q,Qh3,Qa4,Bd4,Qbc2,Ng5,Rxg5,Bxf6,Qxg2+,Rxg2', 'Qd1+,Rg1,Qxg1#', 'https://lichess.org/training/0Se6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0sfnb', 'Bullet', 'tyvinez', 1567, 'light173', 1579, 'e4,e5,Nf3,d6,Bc4,Nc6,Nc3,h6,a3,a5,a4,Bg4,h3,Bh5,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/0sfnb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0si4S', 'Rapid', 'Sv13Ar', 1811, 'Artalelmk', 1902, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nf3,Bg4,Be2,Bxf3,Bxf3,Nf6,Nc3,Nbd7,Bg5,Be7,O-O,O-O,Bxf6,Nxf6,Kh1,a6,Be2,b5,f4,exf4,Rxf4,h6,Rf1,Qc7,Bd3,Qb7,Qe2,Nd7,Nd5,Bg5,Qg4,Ne5,Qe2,Rac8,Rf5,f6,Raf1,Qf7,a3,Ng6,R5f2,Qe6,Nc3,Nf4', 'Rxf4,Bxf4,Rxf4', 'https://lichess.org/training/0si4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0sLyR', 'Blitz', 'CristianJohan07', 2300, 'CM JorgeTobar01', 2232, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nc4,Nxe4,Nc3,Nxc3,bxc3,Be7,Be2,Nc6,O-O,Bf5,d4,d5,Ne3,Be4,f3,Bg6,Re1,O-O,Bf1,Bh4,g3,Bf6,Rb1,Rb8,Bd3,Re8,Rb5,Ne7,Nxd5,c6,Nxe7+,Bxe7,Rb1,Qd5,Bxg6,hxg6,Qd3,Qxa2,Bf4,Bd6', 'Bxd6,Rxe1+,Rxe1', 'https://lichess.org/training/0sLyR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0sMJi', 'Rapid', 'mohamadjavad1356', 2016, 'ladis91', 1990, 'e4,e6,d4,d6,Nc3,h6,Nf3,a6,Bd3,b5,O-O,Bb7,a4,b4,Na2,a5,c4,Nd7,Bf4,Ngf6,Re1,c5,e5,Nh5,Bc1,Bxf3,Qxf3,g6,exd6,Bxd6,Rxe6+,fxe6', 'Bxg6+,Ke7,Qf7#', 'https://lichess.org/training/0sMJi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0sphK', 'Blitz', 'FM Maurice93', 2551, 'Kosadaka', 2412, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N5c3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd5,Bg5,Nbc3,O-O,Bc4,Kh8,O-O,f5,exf5,Bxf5,Bd3,Bxd3,Qxd3,a6,Ne4,Bh6,c3,Qh4,Rad1,Rad8,Rfe1,Rd7,Qg3,Qh5,Nb6,Rdf7,f3,Bf4,Qh3,Qxh3,gxh3,Bh6,Nxd6,Rxf3,Nxb7,Be3+,Kh1,Bxb6,Rd6,e4,Rxc6,Rf1+,Rxf1', 'Rxf1+,Kg2,Rg1#', 'https://lichess.org/training/0sphK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0sPje', 'Rapid', 'David-M', 1976, 'Rene_The_Kingslayer', 1953, 'd4,c5,c4,cxd4,Qxd4,Nf6,Nc3,e6,Nf3,b6,Bg5,Be7,Bxf6,Bxf6,Qe4,Bxc3+,bxc3,Nc6,Nd4,Bb7,Qg4,O-O,e3,Rc8,Bd3,Qf6,O-O,Na5,Nb5,a6,Nd6,Rc6,Nxb7,Nxb7,Be4,Rxc4', 'Bxh7+,Kxh7,Qxc4', 'https://lichess.org/training/0sPje');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0sqZL', 'Blitz', 'CM EnriqueRGH', 2230, 'furkancelebi', 2250, 'f4,d5,Nf3,e6,g3,f5,Bg2,c5,O-O,Nc6,c3,Nf6,e3,d4,exd4,cxd4,Re1,Be7,Qb3,O-O,Ng5,Nd5', 'Nxe6,Bxe6,Rxe6', 'https://lichess.org/training/0sqZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Ss2S', 'Blitz', 'Hedgy22', 1920, 'Atlantisman', 1902, 'd4,e6,c4,f5,g3,Nf6,Bg2,d5,Nh3,c6,O-O,Be7,Nc3,O-O,Bf4,a6,b3,Bb4,Nb1,Nbd7,Nd2,Bc3,Nf3,Bxa1,Qxa1,h6,Bd6,Re8,Ne5,g5,f3,Nxe5,Bxe5,Nd7,Bd6,Nf6,c5,Kg7,Nf2,b6,b4,a5,bxa5,Rxa5,Qb1,b5,Re1,Ra4,Be5,Kf7,e4,Qa5,Re2,b4,exf5,exf5,f4,g4,Nd3,Ba6,Rb2,Bxd3,Qxd3,Kg6,h4,Ne4,Bxe4,dxe4,Qb3,Ra3', 'h5+,Kh7,Qf7#', 'https://lichess.org/training/0Ss2S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0SSce', 'Rapid', 'fulbluf', 1972, 'AM-Veriitas', 1833, 'f4,d5,Nf3,Nf6,Nc3,e6,d3,Be7,e3,O-O,Be2,c5,O-O,Nc6,Ne5,Nxe5,fxe5,Nd7,d4,cxd4,exd4,Qb6,Qd3,f6,exf6,Bxf6,Be3,Qxb2,Rab1,Qa3,Nb5,Qxd3,Bxd3,a6,Nc7,Ra7,Nxe6,Re8,Bf5,g6,Bh3,b5,Rbe1,Bg7', 'Nxg7,Kxg7,Bh6+,Kxh6,Rxe8', 'https://lichess.org/training/0SSce');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0SSnr', 'Blitz', 'framboosje', 2173, 'GalileaMinistry', 2234, 'e3,d5,b3,e5,Bb2,Nc6,Bb5,Bd6,f4,exf4,Bxg7,Qh4+,Kf1,Be5,Bxc6+,bxc6,Bxe5,f6,Bxf4,Nh6,Nf3,Qh5,Nc3,Rg8,Qe2,Nf5,Qf2,Bd7,d3,O-O-O,e4,Nd6,exd5,cxd5,Qxa7,Bc6,Nd4,Qg4,g3,Bb7,Na4,Nb5,Nxb5,Qf3+,Ke1,Qxh1+,Kd2,Qxh2+,Kc3,d4+,Kb4,Qe2,Qb8+,Kxb8', 'Bxc7+,Kc8,Nb6#', 'https://lichess.org/training/0SSnr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0SuBN', 'Rapid', 'goesbulubalen-bjn', 1838, 'akonfala', 1766, 'e4,e5,Bc4,Nf6,d3,Be7,Nc3,c6,Nf3,d6,h3,O-O,g4,Be6,g5,Bxc4', 'gxf6,Be6,fxe7', 'https://lichess.org/training/0SuBN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Svxj', 'Rapid', 'Val-1', 1611, 'mrspartan', 1607, 'h3,g6,e3,Bg7,a3,Nf6,Bc4,O-O,d3,d5,Ba2,c5,Nd2,b6,Ne2,Bb7,Nf1,Nbd7,g4,Rc8,Neg3,e6,g5,Ne8,h4,d4,e4,Ne5,h5,f6,Bxe6+,Kh8,hxg6,Nxg6,Qh5,h6,Qxh6+,Bxh6', 'Rxh6+,Kg7,Nf5#', 'https://lichess.org/training/0Svxj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0swjT', 'Rapid', 'MUKHERJEE667', 1988, 'Bankir1988', 2031, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bc4,e6,h4,h6,Qe2,Be7,Ne5,Bh7,Nxf7,Kxf7', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/0swjT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0sxmQ', 'Rapid', 'StrongKing2020', 1960, 'Serzem', 1976, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,Nxc6,Bb5,e5,Nf3,e4,Ne5,Bd7,Nxc6,bxc6,Bc4,Bc5,d3,Qe7,O-O,O-O,dxe4,Nxe4,Nxe4,Qxe4,Qxd7,Qxc4,c3,Rad8,Qf5,Rfe8,b4', 'Qxf1+,Kxf1,Rd1#', 'https://lichess.org/training/0sxmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0SXpb', 'Rapid', 'realroman', 1648, 'PandaPr', 1603, 'd4,d6,e4,g6,Bd3,Bg7,c3,e5,Be3,Ne7,Ne2,O-O,O-O,f5,exf5,Nxf5,Ng3,exd4,cxd4,Be6,Nc3,Nxd4,Bxd4,Bxd4,Bxg6,Bxf2+,Rxf2,Rxf2,Bxh7+,Kxh7,Kxf2,Qf6+,Kg1,Nc6,Qd3+,Kh8,Rf1,Qd4+,Qxd4+,Nxd4,a3,a6,Nge4,Rg8,Rf4,Bh3,Rh4+,Kg7,Rxh3,Kf8,Rh4', 'Nf3+,Kf2,Nxh4', 'https://lichess.org/training/0SXpb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0syGm', 'Rapid', 'spielman641', 1667, 'Apophis999', 1746, 'd4,d5,Nf3,Nf6,Bf4,Bg4,e3,Bxf3,Qxf3,e6,Nd2,Bd6,Bd3,Nc6,Bg5,e5,Bxf6,gxf6,Qxd5,exd4,exd4,Qe7+,Qe4,Nxd4,Qxe7+,Bxe7,O-O,O-O-O,Rfe1,Bd6,Ne4,Be5,Ng5,Bxh2+,Kxh2,fxg5,Re7,f5,Rd1,Rdf8,c3,Nc6,Rg7,g4,g3,h5,Rg5,h4,Bxf5+,Kb8,Rd2,Ne5,Bxg4,hxg3+,Kxg3,Nxg4,Rxg4,b6,b4,Rh5,Rd3,Rfh8,f3,Rh3+,Kf4,Rf8+,Ke3', 'Rfxf3+,Ke4,Rxd3', 'https://lichess.org/training/0syGm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0szbs', 'Rapid', 'kingslayer777', 1638, 'Talip_1907', 1636, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Ng4,h3,h5,d4,exd4,Nxd4,Nxd4,Qxd4,Bd6,Nc3,Bh2+,Kh1,Be5,Qd3,c6,Bc4,b5,Bb3,a5,a4,b4,Ne2,Ba6,Bc4,Bxc4,Qxc4,Nf6,Bg5,Bxb2,Rab1,Be5,f4,Bd6,e5,Be7,exf6,Bxf6,Bxf6,Qxf6,Qe4+,Kf8,Qd3,Re8,Rbe1,d5,Nd4,Rxe1,Rxe1,g6,Qe3,Kg7,Qe5,c5,Qxf6+,Kxf6,Nc6,c4,Nxa5,Ra8,Nc6,Rxa4,Nd4,b3,cxb3,cxb3,Nxb3,Rxf4,Nc5,Kf5,Kg1,Rc4,Nd3,Rd4,Rf1+,Ke6,Nc5+,Ke7,Re1+,Kd6,Nb3,Rd3,Nc1,Rd2,Kf1,h4,Nb3,Rd3,Nc1,Rd2,Ne2,g5,Ng1,Ra2,Nf3,f6,Rd1,Kc5,Nd2,Ra3,Kf2,Ra2,Ke2,Kd4,Rc1,f5,Rf1,Ke5,Kd3,Ra3+,Kc2,g4,hxg4,fxg4,Nb3', 'Ra2+,Kd3,Rxg2', 'https://lichess.org/training/0szbs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0T3X1', 'Rapid', 'IvanKolmakov', 1880, 'ahmedpsicholog', 2021, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,Be3,Nc6,h3,Bd7,Qd2,Rc8,Bh6,Nxd4,Qxd4,Bxh6,e5,dxe5,Qd3,e4,Nxe4,Nxe4,Qxe4,Bc6,Qd3,Qc7,Rfe1,Rfd8,Qb3,e6,Rxe6,b5,Rxc6,Qxc6,Bxf7+,Kg7,Be6,Rc7,Qg3,Re7', 'Qe5+,Kf8,Qh8#', 'https://lichess.org/training/0T3X1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0t49S', 'Rapid', 'sb19822008', 1761, 'Thinkergame', 1708, 'e4,e5,Nf3,Qe7,Nc3,c6,d4,d6,Bc4,h6,O-O,Nf6,Re1,g5,dxe5,dxe5,a3,Bg4,Be3,Nbd7,Qd2,Bxf3,gxf3,Nh5,Rad1,O-O-O,Bxa7,Qf6,Qe3,Be7,Na4,Qf4,Qxf4,exf4,Bxf7,Ndf6,Be6+,Kc7,Bb6+,Kb8,Bxd8,Bxd8,Rd2,Ng7,Bh3,h5,e5,Nd5,c4,Ne7,Red1,Bc7,Rd7,Re8,Nc5,g4,fxg4,hxg4,Bxg4,Ngf5,Bxf5,Nxf5,e6,f3,Re1,Rg8+,Kf1', 'Bxh2,Rd8+,Rxd8', 'https://lichess.org/training/0t49S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0TCAd', 'Blitz', 'DRdrunkeinstyle', 1796, 'ATRM', 2074, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Bd7,Bg5,Nf6,Qd2,g6,O-O-O,Bg7,Nf3,O-O,Kb1,a6,Bd3,Rc8,Ne1,Ne5,Bf1,b5,f4,Nc4,Qe2,b4,Nd5,Nxd5,exd5,Qb6,Qxe7,Rfe8,Qxd7,Ne3,Rc1,Nc4,Bxc4,Qd4,Nd3,Qxc4,Rce1,Qxc2+,Ka1,Bxb2+,Nxb2', 'Rxe1+,Rxe1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/0TCAd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0TcjV', 'Rapid', 'luki24xxxx', 1831, 'mikibumi', 1640, 'c4,Nf6,e3,e5,Bd3,d5,cxd5,Qxd5,Bf1,Nc6,Nc3,Qd8,Bb5,Bd7,Nge2,Bd6,O-O,O-O,d4,exd4,Nxd4,Nxd4,Bxd7,Qxd7,Qxd4,c5,Qh4,Qf5,e4,Qg4,Qxg4,Nxg4,h3,Ne5,Be3,Rad8,Nb5,Bb8,Bxc5,Rfe8,Rad1,Nd3,Be3,Nxb2,Rxd8,Rxd8,Nxa7,Nc4,Bc5,b6,Be7,Rd7,Nc6,f6,Bb4,Bc7,Ne7+,Kf7,Nd5,b5,Nxc7,Rxc7,Rd1,Kg6,Kh2,Ne5,Bd6,Rc2,Bxe5,fxe5,Rd5,Rxa2,Rxb5,Rxf2,Rxe5,Kf6,Rb5,g5,Kg3,Rf4,Rb4,h5,Kh2,h4,g3,hxg3+,Kxg3,Ke5,Ra4,Rxe4', 'Rxe4+,Kxe4,Kg4', 'https://lichess.org/training/0TcjV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0tgl5', 'Blitz', 'sandorosky', 2167, 'IM AngelitoRT', 2644, 'c4,e5,g3,Nc6,Bg2,h5,h4,Nf6,Nc3,Bc5,d3,d6,a3,a5,Rb1,Ng4,e3,Ne7,d4,Ba7,Nf3,Bf5,e4,exd4,Nxd4,Bd7,O-O,O-O,Bg5,f6,Be3,Nxe3,fxe3,Qe8,Bf3,g6,Nd5,Qd8,Bxh5,gxh5', 'Nxf6+,Rxf6,Rxf6', 'https://lichess.org/training/0tgl5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0TK7b', 'Rapid', 'FatherlessJesus', 1910, 'Krezaul007', 2036, 'd4,e6,e3,d5,Nf3,c5,c4,Nc6,dxc5,Bxc5,Nc3,Nge7,Bd2,O-O,cxd5,Nxd5,Bc4,Ndb4,Nd4,Bxd4,exd4,Nxd4,Rc1,b6,O-O,Bb7,Ne2,Nf3+,gxf3,Bxf3,Bxb4', 'Qg5+,Ng3,Bxd1', 'https://lichess.org/training/0TK7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0tkA3', 'Classical', 'MishaUglov', 1718, 'Sarjana', 1777, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nf3,c5,dxc5,Bxc5,h3,Qb6,O-O,O-O,Nc3,a6,Na4,Qc6,Nxc5,Qxc5,Be3,Qd6,Re1,Nc6,Bg5,h6,Bxf6,Qxf6,c3,Be6,Bc2,Rad8,Qd3,Qg6', 'Qxg6,fxg6,Rxe6', 'https://lichess.org/training/0tkA3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0TL5l', 'Rapid', 'ltl', 1724, 'Vandaad', 1670, 'd4,Nf6,e3,d5,a3,a6,c4,g6,b4,Bg7,Bb2,O-O,Nf3,Bg4,Be2,Bxf3,Bxf3,c6,cxd5,Nxd5,O-O,Re8,e4,Nc7,e5,Nd7,Nd2,Nb6,Rc1,Ne6,Nb3,Nd5,Na5,Rb8,g3,Ng5,Bg2,Bh6,Rc2,Bg7,Re1,Ne6,Bh3,Nec7,Re4,e6,Rh4,f6,exf6,Bxf6,Rg4,Rf8,Re4,Qd7,Nc4,Rbe8,Rce2,Bg7,Qd2,Nf6,Nb6,Nxe4,Nxd7,Nxd2,Nxf8,Nf3+,Kg2,Rxf8,Bxe6+,Nxe6,Rxe6,Nxd4,Re7,Rf7,Re8+,Rf8,Re7,Bf6,Rxb7,Nb5,Bc1,Bd4,Bh6,Rxf2+,Kh3,Be5,a4,Nd6', 'Rb8+,Kf7,Rf8+,Ke6,Rxf2', 'https://lichess.org/training/0TL5l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0tLeA', 'Blitz', 'S55mith', 1864, 'ASLAN-62', 2031, 'f4,e6,e4,d5,Nc3,c6,Nf3,Nf6,e5,Nfd7,Be2,c5,O-O,Nc6,d3,Be7,Ng5,h6,Nxf7,Kxf7,Bh5+,g6,f5,Ndxe5,fxg6+,Kg7,Rf7+,Nxf7,gxf7,e5,Qf3,Be6,Bd2,Nd4,Qg3+,Kf8', 'Bxh6+,Rxh6,Qg8#', 'https://lichess.org/training/0tLeA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0TlFR', 'Blitz', 'highhung723', 1572, 'Sergey1972', 1657, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nf3,Bg4,h3,Bh5,g4,Bg6,Nxc3,Nf6,O-O,Nxe4,Re1,Be7,Nxe4,O-O,Nc3,Nc6,Nd5,Bh4,Nxh4,Qxh4,Kg2,Ne5,Be2,Be4+,f3,Nxg4,fxe4', 'Qf2+,Kh1,Qh2#', 'https://lichess.org/training/0TlFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0tpOn', 'Rapid', 'pymn', 1638, 'koval', 2000, 'g3,d5,Bg2,c6,Nf3,Bf5,b3,e6,Bb2,Nf6,d3,Be7,Nbd2,h6,e3,Bh7,Qe2,O-O,O-O-O,Nbd7,h3,b5,g4,a5,g5,hxg5,Nxg5,Bg6,h4,Bh5,Bf3,Bxf3,Qxf3,a4,h5,axb3,cxb3,Ba3,h6,Bxb2+,Kxb2,Qa5,a4,bxa4,hxg7,Rfb8,Rh8+,Kxg7,Nxe6+,fxe6,Rg1+,Kf7,Rh7+,Ke8,Rg8+,Nxg8', 'Qf7+,Kd8,Qxd7#', 'https://lichess.org/training/0tpOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0tR1V', 'Rapid', 'itsrob10', 1775, 'Leo4164', 1704, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,g3,Nc6,Nde2,Bg4,h3,Bd7,Bg2,g6,O-O,Bg7,Nd5,O-O,Nef4,e6,Nc3,e5,Nfd5,Nxd5,Nxd5,Be6,Be3,Nd4,c3,Nc6,Qd2,b5,a3,Ne7,Bg5,f6,Nxe7+,Qxe7,Be3,Rfd8,Rfd1,Bb3,Bb6,Rd7,Ba5,Bxd1', 'Qd5+,Qf7,Qxa8+', 'https://lichess.org/training/0tR1V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0TUKE', 'Blitz', 'NM FleetWalker', 2188, 'aavnikras1', 2183, 'e4,e6,Nc3,c5,d4,cxd4,Qxd4,Nc6,Qa4,Nf6,Bb5,Bc5,Nf3,Qb6,O-O,Qc7,Bg5,Ng4,h3,h5,Nd5,exd5,exd5,Nd4,Rfe1+,Kf8,Nxd4,Qh2+,Kf1,Qh1+,Ke2,Qxg2,hxg4,Qxg4+,Nf3,Qf5,Qc4,b6,Qd3,d6,Qxf5,Bxf5,Kd2,f6,Be3,Be4,Nd4,Bxd5,c4,Bf7,a3,g5,b4,Bxd4,Bxd4,Kg7,Re7,Rhe8,Rae1,Rxe7,Rxe7,h4,c5,dxc5,bxc5,bxc5,Bxc5,Rd8+,Kc3,h3,Bc6', 'Rc8,Rxf7+,Kxf7', 'https://lichess.org/training/0TUKE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0txiz', 'Rapid', 'crazychess2000', 1781, 'ChesapeakReaper', 1811, 'e4,g6,d4,Bg7,c3,d6,Be3,Nf6,Nd2,O-O,Be2,e5,d5,c6,c4,cxd5,cxd5,h6,Ngf3,Bg4,O-O,Bxf3,Bxf3,Na6,Qb3,b6,Be2,Nc5,Bxc5,bxc5,f3,Rb8,Qc3,Qb6,b3,a5,Nc4,Qb4,Qxb4,axb4,Nxd6,Rfd8,Nc4,Ne8,Rfd1,Nd6,Nxd6,Rxd6,Rdc1,Rc8,Rc4,f5,Rac1,Rdd8,Rxc5,Rxc5,Rxc5,g5,Bb5,Ra8,Ba4,h5,Kf2,f4,Ke2,g4,Rb5,Bf8,Rb6,Ra7,Rg6+,Rg7,Rxg7+,Kxg7,Kd3,Kg6,h3,Kg5,Bd7,gxf3,gxf3,Kh4,Kc4', 'Kg3,d6,Bxd6', 'https://lichess.org/training/0txiz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0txK5', 'Blitz', 'Chocri', 2078, 'Vladik0016000', 2077, 'd4,c6,Nf3,d5,Bf4,Nf6,e3,Nbd7,h3,e6,Be2,Be7,O-O,O-O,c4,Re8,Nc3,a6,Rc1,b6,a3,Bb7,b4,Rc8,Ne5,Nxe5,Bxe5,Nd7,Bh2,f6,Qb3,Nf8,Rfd1,Bd6,Bxd6,Qxd6,c5,Qd8,cxb6,Qxb6,Na4,Qa7,Nc5,Rc7,Rc2,Nd7,Rdc1,Nxc5,Rxc5,e5,Rxd5,cxd5,Rxc7,exd4,Bf3,dxe3,Rxb7,exf2+,Kh2,f1=N+,Kh1,Ng3+,Kh2,Qf2,Qxd5+,Kh8,Qd7,Rg8,Bd5,Nf1+,Kh1,Ne3', 'Qxg7+,Rxg7,Rb8+,Rg8,Rxg8#', 'https://lichess.org/training/0txK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0tYxP', 'Rapid', 'zagorac2105', 1892, 'Pitor4k', 1919, 'e4,c5,b4,cxb4,a3,bxa3,Bxa3,Nc6,d4,e6,Bxf8,Kxf8,f4,Nge7,Nf3,d5,e5,Nf5,c3,Ne3,Qd2,Nxf1,Rxf1,h6,Rf2,b6,Kf1,a5,Qb2,Ba6+,Kg1,Bc4,Nbd2,b5,Nb3,a4,Nc5,Kg8,Nd2,Na5,f5,Nb3,Ndxb3,axb3,Rxa8,Qxa8,fxe6,Qa2,exf7+,Kf8,e6,Qxb2,Rxb2,Ke7,Nd7,Ra8,f8=Q+,Rxf8,Nxf8,Kxf8,Kf2,Ke7,Ke3,Kxe6,g4,g5,h3,Kd6,Kf2,Kc6,Ke1,Kb6,Kd2,Ka5,Kc1,b4,Kd2,Ka4,cxb4,Kxb4,Kc1,Kc3,Rd2,Bf1,Rh2,Kxd4,Kb2,Kc4,Rh1,Bg2,Rh2,Be4,h4,d4,hxg5,hxg5,Rh8,Bc2,Rg8,Kd3,Rxg5,Ke4,Rc5,d3,g5', 'd2,Rxc2,d1=Q', 'https://lichess.org/training/0tYxP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0u0HK', 'Classical', 'squirr3i99', 1712, 'kunalvpawar', 1813, 'Nf3,d5,e3,c5,c4,d4,exd4,cxd4,b3,Nc6,Bb2,Bg4,Be2,f5,d3,e5,h3,Bh5,Nbd2,Bf7,O-O,Bd6,Re1,Nge7,Ng5,O-O,Nxf7,Rxf7,Bf3,Bc7,Ba3,Kh8,Bxc6,Nxc6,Qh5,Qd7,Nf3,g6,Qh6,a5,Ng5,Rg7,g3,Nb4,Bxb4,axb4,Re2,f4,g4,Rag8,a3,Qd6,axb4,f3,Nxf3,Qxb4,Ra7,Qxb3,Nxe5', 'Qd1+,Kg2,Qxe2', 'https://lichess.org/training/0u0HK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0u0TU', 'Rapid', 'Colombita', 1828, 'andreihax', 1918, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,g6,Be2,Bg7,O-O,Nc6,Bf4,a6,Re1,O-O,a3,b5,Qd3,Bf5,Qd1,Rc8,Bd3,Bg4,h3,Bd7,Qd2,e6,Re2,Na5,Rae1,Nc4,Bxc4,bxc4,Bg5,Qb6,Nd1,Bb5,c3,Ba4,Bxf6,Bxf6,Qh6,Bg7,Qh4,h6,g4,Rb8,g5,h5,Ne5,Qc7,Qg3,Rb7,f4,Rfb8,Qg2,Rb6,Ne3,Qb7,h4,Rxb2,f5,Rxe2,Rxe2,exf5,Nxd5,Re8', 'Nf6+,Bxf6,Qxb7', 'https://lichess.org/training/0u0TU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0U1nG', 'Rapid', 'Malcolmn', 2146, 'zgrzgn', 2029, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bf4,dxc4,e4,b5,Qc2,Nbd7,Be2,Bb4,O-O,O-O,Rfd1,Bb7,a3,Bxc3,bxc3,c5,dxc5,Bxe4,Qb2,Nd5,Bd6,Re8,Nd4,Qg5,Bf1,e5,Nxb5,Nf4,g3,Bf3,Re1,Nd3,Bxd3,cxd3,Re3,e4,Nd4,Nxc5,Bxc5,Qxc5,Nxf3,exf3,Rxd3', 'Re2,Qxe2,fxe2', 'https://lichess.org/training/0U1nG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0U4gN', 'Classical', 'abcanmol', 1663, 'Skino86', 1713, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,O-O,h3,c5,Be3,cxd4,Nxd4,Nc6,Nf3,Qa5,Bd3,a6,f5,b5,Bd2,Qb6,fxg6,hxg6,Nd5,Nxd5,exd5,Ne5,Qe2,Nxf3+,Qxf3,Bxb2,Be3,Bd4,Bxd4,Qxd4,Rd1,Qe5+,Kf2,Qf6,Qxf6,exf6,Rhe1,Bd7,Re7,Rad8,Rde1,Rfe8', 'Rxd7,Rxd7,Rxe8+', 'https://lichess.org/training/0U4gN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0U4s7', 'Rapid', 'vikas_sharma', 1864, 'mumia50', 1881, 'd4,g6,Bf4,Bg7,e3,d6,Nf3,Nc6,c3,Nf6,h3,Bd7,Nbd2,a6,a4,Na7,Qb3,b5,axb5,axb5,Be2,O-O,O-O,c5,Qc2,c4,Ne4,d5,Nxf6+,exf6,e4,Bc6,e5,fxe5,Bxe5,f6,Bg3,Nc8,Rxa8,Bxa8,Ra1,Nd6,Ra6,Ne4,Bh2,Re8,Nd2,Ng5,Nf3,Ne4,Nd2,Ng3,Bxg3,Rxe2,Qd1,Re8,Qa1,Bb7,Rd6,Qe7,Qa7,Bf8,Rb6,Ra8', 'Qxb7,Qxb7,Rxb7', 'https://lichess.org/training/0U4s7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0U5q8', 'Rapid', 'Smokinghole', 2006, 'Hugo_Boss1995', 2015, 'e4,e6,c4,d5,cxd5,exd5,Qb3,dxe4,Bc4,Qf6,Nc3,Nc6,Nd5,Qe5,d3,exd3+,Be3,Nd4,Qa4+,c6,Nf3,Nxf3+,gxf3,b5,Bxb5,cxb5,Qxb5+,Bd7,Qb7,Rb8', 'Nc7+,Qxc7,Qxc7', 'https://lichess.org/training/0U5q8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0U6tt', 'Rapid', 'Jamescorrigan93', 1823, 'Urdysh', 1776, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Nxe4,Bd3,Nc5,Nc3,Nxd3+,Qxd3,Nb4,Qe4,d5,exd6+,Be6,Qxb4,Bxd6,Qe4,O-O,O-O,Re8,Qh4,Be7,Bg5,f6,Qe4,Bd6,Bh4,g5,Bg3,f5,Qa4,f4,Bxf4,Bxf4,Rad1,Qf6,Ne4,Qh6,Qd4,Rf8,Nc5,g4,Nxe6,Qxe6,Nh4,Bg5,Rfe1,Qf7,Qxg4', 'Qxf2+,Kh1,Qxh4', 'https://lichess.org/training/0U6tt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ueFQ', 'Rapid', 'Dustin1232143', 1699, 'Megaptera52', 1713, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,e6,Nf3,a6,O-O,d5,exd5,exd5,Bxd5,Nf6', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/0ueFQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Uj0P', 'Rapid', 'diogen613', 1820, 'champtazz14', 1766, 'e4,c5,Bc4,d6,Nc3,Nc6,Nge2,e6,d3,Be7,O-O,Nf6,f4,a6,a4,Qc7,f5,O-O,fxe6,Bxe6,Bd5,Nd4,Be3,Nxe2+,Qxe2,Bxd5,Nxd5,Nxd5,exd5,Bf6,c4,Rae8,Rf3,Bd4,Re1,Qe7,Qd2,Qg5,Re2,Qe5,Kf2,Qxh2,Bxd4,Rxe2+,Qxe2,cxd4,Qe4,Qe5,Qh4,Re8,Kg1,Qe1+,Qxe1,Rxe1+,Rf1,Re2,Rf2,Re1+,Rf1,Re3,Rf3,g5,Kf2,Rxf3+,Kxf3,h5,Ke4,Kg7,Kxd4,g4,Ke4,h4,Kf4,f5,d4,Kf6,b4,h3,gxh3,gxh3,Kg3,f4+,Kxh3,Kf5,Kg2', 'Ke4,Kf2,Kxd4', 'https://lichess.org/training/0Uj0P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0UKoL', 'Classical', 'The_Onion_Knight', 1801, 'Mihail5432', 1801, 'e4,d6,f4,Nc6,Nf3,Nf6,Nc3,e5,Bb5,Bd7,Bxc6,Bxc6,d3,Be7,fxe5,dxe5,Nxe5,O-O,O-O', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/0UKoL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0UN16', 'Rapid', 'the_wassel', 2031, 'MohammedHassanin30', 2103, 'd4,Nf6,c4,e5,dxe5,Ng4,Qd4,d6,Nf3,Nc6,Qe4,Ngxe5,Nc3,Be6,Bg5', 'Nxf3+,gxf3,Qxg5', 'https://lichess.org/training/0UN16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0UPFR', 'Rapid', 'colovrat', 1758, 'Meiram', 1720, 'd4,d5,Nf3,Nf6,Bf4,Bf5,Nbd2,e6,a3,Nc6,e3,Bd6,Bxd6,Qxd6,h3,O-O-O,c4,dxc4,Nxc4,Qd7,Nfe5,Nxe5,Nxe5,Qe7,b4,Nd7,Nxd7,Rxd7,Bd3,Bxd3,Qxd3,e5,O-O,exd4,exd4,Qf6,Rad1,h6,Qc4,Rhd8,d5,Qd6,Qd4,Qxd5', 'Qxa7,c6,Rxd5', 'https://lichess.org/training/0UPFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0UqAC', 'Blitz', 'ElAlberto', 1891, 'MagnusCarlsen4444', 1855, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,Nge7,cxd4,Bb4+,Nc3,O-O,O-O,Ng6,a3,Ba5,b4,Bb6,Re1,d6,h3,Qf6,Nd5,Qd8,Bg5,Qd7,Nxb6,axb6,Qb3,h6,Be3,Qe7,Rac1,Bd7,Bd5,Be6,Bxe6,fxe6,Rc2,Rfc8,Rec1,Nd8,d5,e5,Bxb6,Nf4,Kf1,c5,dxc6+,Kh8,cxb7,Qxb7,Be3,Rxc2,Rxc2,Qxe4,a4,Rb8,b5,Nde6,Rc4,Qg6,Bxf4,Nxf4,Ne1,Qe6,g3', 'Qxh3+,Kg1,Ne2#', 'https://lichess.org/training/0UqAC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0urMb', 'Blitz', 'JeremiWisniowiecki', 1825, 'mojofingers', 1896, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Nf3,Be7,Bb5+,c6,Bd3,O-O,Be3,h6,Qd2,Re8,O-O-O,Qa5,Bxh6,gxh6,Qxh6,Qd8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/0urMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0URpw', 'Blitz', 'Lochinvar123', 2142, 'Deriban', 2135, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,Bb5+,Nc6,O-O,Nf6,Re1+,Be7,dxc5,O-O,Bxc6,bxc6,Be3,Ne4,Bd4,Bxc5,Bxc5,Nxc5,Nc3,Bg4,h3,Bh5,g4,Bg6,Ne5,Qc7,Nxg6,fxg6,Qd4,Nd7,Re7,Rf7,Rae1,Raf8,Nxd5,cxd5,Qxd5,Qf4,Rxf7,Rxf7', 'Re8+,Nf8,Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/0URpw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Usxz', 'Bullet', 'franck6446', 1602, 'speicher', 1599, 'd4,e6,g3,d5,Bg2,Bd6,c3,Nf6,Nd2,b6,f3,Bb7,e4,dxe4,fxe4,e5,d5,O-O,Ngf3,a5,a3,Nbd7,b3,Nc5,Qe2,Ba6,c4,Bb7,Bb2,Nfd7,Bc3,f5,O-O,fxe4,Nxe4,Nxe4,Qxe4,Nc5,Qe2,Nxb3,Rab1,Nc5,Bb2,Qe7,Nxe5,Rxf1+,Rxf1,Re8,Qh5,Bxe5,Bxe5,Qxe5', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/0Usxz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0uvZA', 'Blitz', 'alberto-quintin', 2382, 'NM logozar', 2261, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nc6,Bf4,e5,dxe5,d4,Ne4,Qd5,Nd2,Nge7,e4,dxe3,Bxe3,Nxe5,Ngf3,N7c6,Be2,Nd3+,Bxd3,Qxd3,Qe2,Bf5,Qxd3,Bxd3,Nb3,O-O-O,O-O-O,Bb4,Nc5,Be2,Rxd8+,Rxd8,a3,Bxc5,Bxc5,Bxf3,gxf3,Rd5,Be3,Ne5,f4,Nc4,Rg1,g6,Re1,f5,Bxa7,b6,b3,Nxa3,Bxb6,Rb5,Bd4,Rxb3,Re7,Rb7,Re8+,Kd7,Rh8,Kc6,Be5,Nc4,Kc2,Kd5,Kd3,Nxe5+,fxe5,Kxe5,Ke3,Rb3+,Ke2,Rb7,Kf3,Rb3+,Ke2,Rb7,h4,Kf4,Ra8,Kg4,Ra4+,f4,Rc4,Rf7,h5,Kxh5,Kf3,Kg5,Rc5+,Rf5,Rc8,h5,Kg2,f3+,Kg3,h4+,Kh3,Ra5,Rc3,Rf5,Rc4,Rf4,Rc5+,Rf5,Rc3,Kh5,Rc8,g5,Rh8+,Kg6,Rg8+,Kf7,Ra8,Rf4,Ra5,Kg6,Ra8,g4+,Kxh4,Rf7,Kxg4,Rf6,Ra5,Rf7,Rg5+,Kf6', 'Rf5+,Kg7,Rxf7+,Kxf7,Kxf3', 'https://lichess.org/training/0uvZA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0uW7P', 'Rapid', 'Kooksta', 1858, 'Matatator', 1926, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,d6,h3,Bd7,O-O,h6,Nc3,g5,d3,a6,Ne1,Bg7,Bd2,Nf6,Nd5,Nxd5,Bxd5,Qe7,Bc3,Bxc3,bxc3,h5,Nf3,g4,Nd4,gxh3,gxh3,Bxh3,Rf3,Rg8+,Kh2,Qh4,Rxh3', 'Qf2+,Kh1,Qg2#', 'https://lichess.org/training/0uW7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0uXFH', 'Blitz', 'Larthero', 1831, 'Ronnieryb', 1738, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Bb4+,Nc3,Bxc3+,bxc3,Nc6,Nf3,Qe7,Qd5,Qa3,Rc1,O-O,h3,Nh6,Bxh6,gxh6,Qd2,Kg7,Nh4,Nxe5,Nf5+,Kh8,Qxh6,Rg8,e4,d6,Be2,Bxf5,exf5,Rxg2,Qf6+,Rg7,Rg1,Rg8,Rxg7,Qxc1+,Bd1,Rxg7,Qd8+,Rg8,Qxc7,Nf3+,Ke2,Qxc3,Qxd6,Nd4+,Kf1,Qxh3+,Ke1,Rg1+,Kd2,Nf3+,Bxf3,Qxf3,Qd8+,Kg7,f6+,Kg6,Qg8+,Kxf6,Qxg1,Qf4+,Kc3,Qe5+,Kb3,Qf5,Qa1+,Kg5,Qg7+,Kf4', 'Qg3+,Ke4,Qe3#', 'https://lichess.org/training/0uXFH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0v0Wu', 'Classical', 'Rantsan_Y', 1748, 'danmanning', 1752, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Bc4,b5,Bb3,Be7,Nf3,O-O,O-O,b4,Ne2,Nxe4,Qd3,Nf6,Bf4,a5,Bc4,Na6,Rad1,Nc5,Qd2,Nfe4,Qc1,d5,Bd3,f5,Ne5,Bb7,f3,Nxd3,cxd3,Qb6+,Be3,Bc5,Bxc5,Qxc5+,Qxc5,Nxc5,Rc1,Rfc8,b3,Ba6,Rfd1,g5,Kf2,Kg7,d4,Bxe2,Kxe2,Kf6', 'Rxc5,Rxc5,Nd7+,Ke7,Nxc5', 'https://lichess.org/training/0v0Wu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0v4be', 'Blitz', 'FM T2016', 2601, 'GM Gannikus21', 2525, 'd4,g6,c4,Bg7,Nf3,d6,Nc3,Nf6,e4,O-O,Be2,Bg4,O-O,Bxf3,Bxf3,Nc6,d5,Ne5,Be2,c6,f4,Ned7,Be3,Rc8,Qb3,Nb6,a4,cxd5,cxd5,Rxc3,bxc3,Nxe4,a5,Nxc3,Bf3,Nd7,Qxb7,Nc5,Qxa7,Nb5,Qb6,Qxb6,axb6,Bxa1,Rxa1,Rb8,Rb1,Nc3,Rc1,N3a4,Rb1,Rxb6,Rxb6,Nxb6,Kf2,f5,g3,Kf7,Ke2,Nc4,Bf2,Ne4,Bg1,Nf6,Kd3,Na5,Kc3,Nb7,Kb4,Ke8,Kb5,Kd7,Kb6,Nd8,Be2,Nf7,Bb5+,Kd8,Kc6,Nd7,Kb7,Nh6,h3,Ng8,Bd4,Ngf6,Bc6,Nc5+,Ka7,Kc7,Bc3,Kd8,Ba5+,Kc8,Bc3,Nfe4,Be1,Nd3,Ba5,Nxg3,Bb7+,Kd7,Kb8,Ne4', 'Bc6#', 'https://lichess.org/training/0v4be');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0VaGx', 'Blitz', 'wkdwlstjr5209', 1672, 'Aawlbt', 1862, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Nc3,Qc7,O-O,a6,Bxc6,Qxc6,d3,d6,h3,g6,Bg5,Bg7,Qe2,O-O,d4,cxd4,Nxd4,Qb6,Nb3,Nd7,Bxe7,Re8,Bg5,Nc5,Nd5,Qa7,Nxc5,Qxc5,Nf6+,Bxf6,Bxf6,Re6,Bc3,d5,Kh1,Rxe4,Qd2,d4,Bb4,Qd5,f3,Rh4,Qf2,Rh5,Rad1,Bxh3,gxh3,Rxh3+,Kg2,Rh5,Rxd4,Qg5+,Rg4,Qe5,Rh1,Re8,Bc3,Qd5,Rxh5,Qxh5,Rg3,Qb5,Qd4,Re2+,Kh3,Qh5+,Qh4,Qf5+,Qg4,Qxc2,Qd4', 'Rh2+,Kg4,Qf5#', 'https://lichess.org/training/0VaGx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vaVu', 'Rapid', 'bnavazo', 1816, 'sekhar12345', 1757, 'c4,c5,e3,Nc6,d4,cxd4,exd4,Nf6,d5,Ne5,Nf3,Nxf3+,Qxf3,Qc7,Nc3,e6,b3,Bb4,Bd2,Bxc3,Bxc3,Qd8,Bd3,d6,O-O,e5,Qg3,b6,Rfe1,Nh5,Qf3,Nf4,Bc2,Qg5,Bb4,O-O,Bxd6,f6,Bxf8,Kxf8,g3,Nh3+,Kf1,Nf4,gxf4,exf4,Qg2,Qh5,Re4', 'Bh3,Kg1,Bxg2', 'https://lichess.org/training/0vaVu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vc8f', 'Classical', 'NezRond', 1832, 'Polo60', 1896, 'e4,c5,Nf3,d6,h3,Nf6,Be2,Nc6,d3,e6,c3,Be7,Nbd2,O-O,b3,a5,a4,Bd7,Bb2,Qc7,O-O,d5,e5,Nxe5,Nxe5,Qxe5,Nf3,Qc7,c4,Rab8,d4,Ne4,Ne5,Be8,cxd5,exd5,dxc5,Bxc5,Qxd5,Ng3,Rfd1,Nxe2+,Kh1,Rd8', 'Qxd8,Qxd8,Rxd8', 'https://lichess.org/training/0vc8f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vdHV', 'Bullet', 'MCJason', 2554, 'BTSJ2000', 2363, 'e4,c5,Nf3,Nc6,Bc4,Nf6,Nc3,e6,d4,cxd4,Nxd4,Bb4,O-O,O-O,Nxc6,bxc6,e5,Nd5,Qg4,Nxc3,bxc3,Bxc3,Bg5,f6,Bxf6,Rxf6,exf6,Bxf6,Rad1,d5,Bd3,g6,c4,Bg7,Qg3,Ba6,cxd5,Bxd3,Rxd3,exd5,Rfd1,Qd7,Rb3,Rc8,Rb8,d4,Qb3+,Kf8,Qb4+,Kg8,Rxc8+,Qxc8,Qc4+,Kf8,Rc1,Ke7,Kf1,Kd6,Qc5+,Kd7,Qxa7+,Qc7,Qc5,Qd6,Qa7+,Qc7,Qa6,Qd6,a4,Be5,a5,d3,Rd1,d2,Qc4,Bf4,a6,Bh6,a7,Qa3,Qf7+,Kd6,Rxd2+,Bxd2,Qf8+,Kc7,a8=Q', 'Qd3+,Kg1,Qb1#', 'https://lichess.org/training/0vdHV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0VGu5', 'Rapid', 'JUVENTUS-TORINO', 2127, 'Bayatdjan-99', 2272, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,Be2,Bg4,O-O,Nbd7,Bf4,h6,Re1,e6,Ne5,Bxe2,Rxe2,Be7,Nxd7,Nxd7,Qd3,O-O,Qg3,Qh5,Rae1,Nf6,Ne4,Rfd8,c3,Nxe4,Rxe4,b5,Be5,g6,b3,a6,h3,Rac8,Bc7,Rd5,Bf4,c5,Re5,Rxe5,dxe5,g5,Bd2,Rd8,Bc1,Qg6,c4,bxc4,bxc4,Qc2,Qb3,Qxb3,axb3,Rd3,Be3,Rxb3,Ra1,Rb4,Rxa6,Rxc4,Ra8+,Kg7,Ra7,Bf8,Rc7,Kg6,g3,Rc3,Bd2,Rc2,Be3,c4,Kf1,Bb4,f4,gxf4,Bxf4,c3,g4,Rb2,h4,c2,h5+,Kg7,g5,hxg5,Bxg5,Ba3,Rc8,Kh7,Bf6,Bf8,Rxf8', 'c1=Q#', 'https://lichess.org/training/0VGu5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0VgYu', 'Classical', 'Cabrety', 2016, 'Gomorrah', 2190, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Bg4,exd6,exd6,h3,Bh5,Bd3,Be7,O-O,O-O,Bxh7+,Kxh7,Ng5+,Kg6', 'Qd3+,f5,Ne6', 'https://lichess.org/training/0VgYu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vHmC', 'Rapid', 'giacomo-2000', 1882, 'Mehmet_K', 1884, 'd4,Nf6,Bf4,e6,e3,Nc6,c3,b6,Bd3,Bb7,Nf3,Be7,Nbd2,O-O,O-O,d6,h3,Nd7,Qc2,h6,b4,a6,a4,e5,Bh2,exd4,exd4,Bf6,Ne4,d5,Nxf6+,Nxf6,Rfe1,Qd7,Bf5,Qd8,Qb2,Bc8,Bd3,Re8,Rxe8+,Qxe8,Re1,Be6,Bxc7,Qd7,Bg3,Re8,Bxa6,Na7,Bd3,Qxa4,Ra1,Qd7,Ne5,Qb7,Ba6,Qe7,Bd3,Ne4,Bxe4,dxe4,Ra6,Qb7,Qa3,Nc6,Nxc6,Qxc6,Qc1,Bd5,Qe3,Qb5,Ra1,Qd3,Qe1,e3,Rd1', 'exf2+,Bxf2,Rxe1+', 'https://lichess.org/training/0vHmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vhSb', 'Rapid', 'fireball98', 1746, 'pestis', 1726, 'd4,d5,c4,Nc6,Nf3,dxc4,e4,Bg4,Be3,Bxf3,Qxf3,Nxd4,Qd1,e5,Bxd4,exd4,Bxc4,Bb4+,Nd2,Qg5,Qa4+,c6,Qxb4,Qxg2,Rf1,O-O-O,Rd1,Nf6,f3,Qxh2,Qc5,Qg3+,Ke2,Qf4,Kd3', 'Qe3+,Kc2,d3+,Kb1,Qxc5', 'https://lichess.org/training/0vhSb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0viRE', 'Blitz', 'LaToureBlancheTLM', 1780, 'khalid0249', 1764, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,h6,Nc3,Nc6,b3,Bb4,Bb2,Nf6,f3,Qa5,Nxc6,Bxc3+,Kf2,bxc6,Bxc3,Qxc3,Rc1,Qa5,Bd3,O-O,g4,Nh7,h4,f6,Rg1,d5,exd5,exd5,Rc2,Be6,Qe2,Rae8,Bxh7+,Kxh7,Qd3+,Kh8,Qg6,dxc4,g5,fxg5,hxg5,Bf5,Qxc6,Bxc2,gxh6,gxh6', 'Qxh6+,Bh7,Qg7#', 'https://lichess.org/training/0viRE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0VnF4', 'Rapid', 'Kushanranga', 1802, 'NiKitA200607', 1797, 'd4,d5,c4,Nf6,Nc3,e6,a4,Bb4,Bg5,O-O,e3,h6,Bf4,Ne4,Ne2,Nc6,g3,dxc4,Bg2,Nxc3,Nxc3,Re8,O-O,e5,Bxc6,bxc6,Bxh6,gxh6,Qh5,Kh7,Qxf7+,Kh8,Qxc4,Bxc3,bxc3,Be6,Qxc6,exd4,cxd4,Qd7,Rfc1,Rec8,Qf3,Bd5,Qf6+,Kh7,Rc5,Rf8,Qe5,Bf3', 'Rxc7,Qxc7,Qxc7+', 'https://lichess.org/training/0VnF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vq3z', 'Rapid', 'Elselend1n', 2105, 'Issa2018', 1849, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Qe2,d6,d4,a6,Bxc6+,bxc6,dxe5,dxe5,O-O,Bd6,Rd1,O-O,Nxe5,Qe8,Nf3,Qxe4,Nc3,Qxe2,Nxe2,Bg4,Rd3,Rfe8,Be3,Nd5,Rad1,Bxf3,gxf3,Re6,Nd4,Rg6+,Kf1,c5,Nf5,Nxe3+,fxe3,Rd8,Rd5,Rf6,Rxc5,g6,Nxd6,cxd6,Rc6,Rxf3+,Ke2,Rh3,Rxa6,Rxh2+,Kd3,Rc8,Rd2,Rxd2+,Kxd2,Rd8,Ra4,h5,Ke2,g5,Kf2,f5,Rd4,d5,c4,h4,cxd5,g4,b4,Kf7,a4,Kf6,a5,Ke5,a6,Kd6,a7,Ra8,b5,Rxa7,Rf4,Ra2+,Kg1,Ke5,b6,Rb2,d6,Rxb6,d7,Rd6', 'Rd4,Rxd7,Rxd7', 'https://lichess.org/training/0vq3z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0VQu5', 'Rapid', 'sl11235', 1973, 'Ridics', 2035, 'e4,e5,Bc4,Nc6,Ne2,Nf6,Nbc3,Bc5,O-O,O-O,d3,d6,Bg5,h6,Bh4,g5,Bg3,Nh5,Kh1,Qf6,Nd5,Qd8,Ne3,Bxe3,fxe3,Kg7,Be1,Bg4,Qd2,Ne7,h3,Be6,Bxe6,fxe6,Bg3,Ng6,Rf3,Rxf3,gxf3,Qf6,Rf1,Rf8,f4,exf4,exf4,gxf4,Bh2,e5,d4,Kh7,dxe5,dxe5,Qd7+,Rf7,Qg4,Qh4,Qe6,Rg7,Rg1,Qf2,Qg4,Nh4,Qxh5', 'Rxg1+,Bxg1,Qg2#', 'https://lichess.org/training/0VQu5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vRRs', 'Rapid', 'eker', 1608, 'ManuPRZ96', 1651, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,e3,O-O,Bd3,c5,O-O,cxd4,Nxd4,e5,Nde2,b6,e4,Bb7,Ng3,a6,Re1,Nc6,Be3,Nb4,Bb1,b5,a3,Nc6,cxb5,axb5,Nxb5,d5,exd5,Nxd5,Be4,Nxe3,Rxe3,Qb6,Nd6,Rad8,Rb3,Rxd6', 'Rxb6,Rxd1+,Rxd1', 'https://lichess.org/training/0vRRs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0VsSq', 'Blitz', 'IM skylover', 2223, 'Tenessy', 2242, 'c4,c5,Nc3,Nc6,Nf3,e5,e3,Nf6,d4,exd4,exd4,d5,cxd5,Nxd5,Bb5,Nxc3,bxc3,cxd4,O-O,Be7,cxd4,O-O,d5,Nb4,Bc4,b5,Bxb5,Bb7,Bb2,Qxd5,Qxd5,Bxd5,Rfe1,Bc5,Rac1,a6,Rxc5,axb5,Rxb5,Nd3,Rxd5,Nxb2,Rd7,Rxa2,g3,Nc4,Ree7,h6,Nh4,Nd2,Kg2,Nc4,Ng6,Nb6', 'Nxf8,Nxd7,Nxd7', 'https://lichess.org/training/0VsSq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vswV', 'Classical', 'ainall124', 1671, 'francis0181', 1805, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,Nf3,Bg4,d3,e6,O-O,Nf6,c4,d4,Bf4,Bc5,Nbd2,e5,Qe1,O-O,Bg5,Qd6,h3,Bf5,Ne4,Nxe4,dxe4,Bg6,Rd1,f5,exf5,Bxf5,Nd2,Rae8,Ne4,Bxe4,Qxe4,Rf7,h4,Nd8,Bxd8,Rxd8,Qd5,Qe7,Qe4,Kh8,Bc2,g6,Rfe1,Bd6,g3,Bb8,Bb3,Rdf8,f4,Qc5,Rd3,Rf5,fxe5', 'Rxe5,Qxe5+,Bxe5', 'https://lichess.org/training/0vswV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vt8c', 'Rapid', 'mrbiggfoot', 2137, 'paleta', 1968, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Be7,O-O,Nf6,Re1,O-O,a4,bxa4,Bxa4,Bd6,Nc3,Nd4,d3,Nxf3+,Qxf3,h6,Qg3,Nh5,Qg4,Nf4,Bxf4,exf4,e5,Bxe5,Rxe5,d6,Qxf4,dxe5,Qxe5,Bd7,Bb3,Bc6,Ne4,Bxe4,Qxe4,Qf6,Qb7,Qxb2', 'Bxf7+,Rxf7,Qxb2', 'https://lichess.org/training/0vt8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0VTSB', 'Blitz', 'fallthrough', 2570, 'IM RzayevBahruz', 2528, 'g4,d5,Bh3,h5,g5,Bxh3,Nxh3,e5,d3,Qd7,Ng1,Nc6,Nf3,O-O-O,a3,Qf5,h4,e4,Nfd2,Bc5,e3,exd3,Qf3,Qxf3,Nxf3,dxc2,Nc3,d4,exd4,Nxd4,Nxd4,Bxd4,Kd2,Bxc3+,Kxc3,Rd1,Bf4,Rxa1,Rxa1,Ne7,Kxc2,Rd8,Re1,Ng6,Bg3,Kd7,Rd1+,Kc8,Re1,Kd7,Re4,c5,Ra4,a6,Rc4,Kc6,Re4,Rd4,Re8,Nxh4,Re7,Nf5,Rc7+,Kb6,Rxf7,g6,Rf6+,Kb5,Rxg6,h4,Be5,Re4,Bc7,c4,Rf6,Re2+,Kc3,Rxf2,g6,Rf3+,Kd2,h3,g7,Rd3+,Ke2,Nxg7,Rb6+,Kc5,Rxb7,Kc6,Rb4,Nf5', 'Rxc4+,Kd5,Kxd3', 'https://lichess.org/training/0VTSB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vuFr', 'Classical', 'Fortimbras32', 1644, 'NoahFence', 1757, 'e4,c5,f4,e6,Nf3,d6,c3,Nc6,d4,Nf6,e5,dxe5,fxe5,Nd7,Bg5,Be7,Bxe7,Qxe7,Nbd2,cxd4,cxd4,Qb4,Be2,Nxd4,O-O,Nxf3+,Nxf3,Qxb2,Qd3,Nxe5,Nxe5,Qxe5,Rae1,Qb2,Qb5+,Qxb5,Bxb5+,Bd7,Bxd7+,Kxd7,Rxf7+,Kd6,Rxg7,b5,h3,a5,Rd1+,Ke5,Rg5+,Kf6,Rxb5,h5,a4,h4,Rf1+,Ke7,Kh2,Ra6,g3,hxg3+,Kxg3,Rf8', 'Rb7+,Ke8,Rb8+', 'https://lichess.org/training/0vuFr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Vwj5', 'Blitz', 'Kidonez', 1654, 'ali_razi', 1645, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Bb4,Bd2,Nf6,Bd3,O-O,Nge2,Bxc3,Bxc3,d5,exd5,Nxd5,O-O,c6,b3,Bg4,f3,Bh5,Re1,Qb6+,Kh1,Nd7,Bd4,c5,Bf2,Rae8,Qc2,Bg6,Nc3,Nf4,Bxg6,hxg6,Rad1,Nf6,Na4,Qa5,Nxc5,Rc8,Re5,b5,Qb2,Qb4,a3,Qa5,b4,Qc7,Ree1,Kh7,Bg3,N6h5,Rd7,Qc6,Bxf4,Nxf4,Re4,Ne6,Rh4+,Kg8,Nxe6', 'Qc1+,Qxc1,Rxc1+,Rd1,Rxd1#', 'https://lichess.org/training/0Vwj5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vXlG', 'Classical', 'laxmilrahul', 1728, 'astra22', 1691, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,d3,Bxe2,Ngxe2,Nf6,Bf4,Qa5,O-O,Na6,Re1,O-O-O,Be3,b6,a4,Nb4,Nb5,Nbd5,Bd2,Qa6,Ned4,Qb7,Qf3,e6,c4,Nb4,Qg3,c5,Nf3,Nc2,Ne5,Nxa1,Rxa1,a6,Nxf7,Qxf7,Nc3,Qc7,Qf3,Qb7,Qh3,Qd7,Qf3,Kb8,a5,Ka7,axb6+,Kxb6,Na4+,Ka7,Ba5,Rb8,Qe3,Qc6,b4,Nd7,b5,axb5,cxb5,Rxb5,Nc3,Kb7', 'Nxb5,Qxb5,Qe4+', 'https://lichess.org/training/0vXlG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0vYtn', 'Blitz', 'FM ChainsOfFantasia', 2527, 'Bunk_Moreland', 2400, 'd4,d5,Nf3,Nf6,c4,e6,Nc3,a6,cxd5,exd5,Bg5,Be6,Bxf6,Qxf6,Qb3,b6,h4,h6,g3,Qd8,Bh3,Bxh3,Rxh3,c6,Kf1,Nd7,Re1,Be7,e4,dxe4,Nxe4,O-O,g4,Nf6,Nxf6+,Bxf6,g5,hxg5,hxg5,Bxg5,Nxg5,Qxg5,Re5,Qg4,Reh5,g6,R5h4,Qf5,Qxb6,Qb5+,Qxb5,axb5,a3,Rfd8,Rc3,Rd6,Ke2,Rad8,Ke3,Kg7,Re4,Rh8,f3,Rh2,b4,Kf6,Rf4+,Ke7,Re4+,Re6,Rxe6+,fxe6,Rxc6,Ra2,Rc3,Kd6,Ke4,Re2+,Re3,Ra2,Rd3,Re2+,Kf4,Kd5,Re3', 'g5+,Kg3,Rxe3', 'https://lichess.org/training/0vYtn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0w70m', 'Blitz', 'iiNt', 1811, 'Babek-Mamedov1978', 1822, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,Bg4,Be2,h5,h3,Bd7,Ne4,Qb6,Nxf6+,gxf6,b3,Qxd4,Nf3,Qb6,Be3,Qc6,O-O,Rg8,Kh2,Be6,Rg1,Nd7,Nd4,Qd6+,g3,Bd5,Bf4,e5,Nb5,Qc6,Be3,a6,c4,Be4,Nc3,O-O-O,Nd5,Bc5,Bxh5,Bxd5,cxd5,Qb6,Bxc5,Nxc5,Bxf7,Rg7,Bh5,Ne4,Rf1,Nxf2,Qf3,Nxh3,Kxh3,Rf8,Qf5+,Kb8,Rad1,Qe3,Qf3,Qh6,Kg2,Rg5,Rh1,Qg7,d6,cxd6,Rxd6,Rg8,Rh3,f5,Rb6,e4,Qf4+,Ka8,Qe3,Qb2+,Qe2,Qd4,Re6,f4,Rxe4', 'Rxg3+,Rxg3,Rxg3+,Kf1,Qg1#', 'https://lichess.org/training/0w70m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0wAaD', 'Blitz', 'CGPhantom', 1661, 'azamat_spb', 1803, 'e4,e5,Nf3,f5,exf5,e4,Nd4,Nf6,Nc3,c5,Nde2,d5,b3,Bxf5,Ng3,Bg6,Bb5+,Nc6,Bb2,Bd6,O-O,O-O,d3,Bc7,dxe4,Bxg3,fxg3,Nxe4,Nxe4,Bxe4,Qg4,Qc7,Bxc6,bxc6,Rf4,Bxc2,Raf1,Rxf4,Rxf4,Bg6,Qe6+,Kh8,h4,Re8', 'Qxe8+,Bxe8,Rf8#', 'https://lichess.org/training/0wAaD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Wag9', 'Rapid', 'Wave_Akii', 1824, 'Ossetepolv', 1848, 'd4,e6,c4,Nf6,Nc3,c5,Bg5,cxd4,Qxd4,Be7,e3,O-O,Nf3,Nc6,Qd1,h6,Bh4,a6,Be2,b5,cxb5,axb5,Bxb5,Qa5,Bxc6,dxc6,O-O,Rb8,Rb1,Ba6,Re1,Nd5,Bxe7,Nxe7,Qd7,Nd5,Qxc6,Bb7,Qa4,Qc7,Nb5,Qd7,Nc3,Bc6,Qc2,Qb7,Ne5,Nxc3,Qxc3,Bxg2,Qb3,Be4,Qxb7,Rxb7,Rbc1,Rxb2,a4,Ra2,Rc4,Bd5,Rd4,Ra8,Rf4,f6,Ng6,R2xa4,Rxa4,Rxa4,Ne7+,Kf7,Nxd5,exd5,Rd1,Ke6,Kg2,Rg4+,Kf3,f5,h3,Rh4,Kg3,g5,f4,Rh5,fxg5,Rxg5+,Kf4,Kd6,h4,Rh5,Kg3,Ke5,Rd2,Ke4,Rd1,Kxe3,Rxd5,Ke4,Rd1,f4+,Kg4,Rf5', 'Re1+,Kd3,Kxf5', 'https://lichess.org/training/0Wag9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Wcv2', 'Classical', 'FS90', 1816, 'ochuma', 1781, 'Nf3,e6,g3,Bc5,Bg2,Nf6,d4,Bb6,O-O,h6,c4,a6,b4,O-O,c5,Ba7,Nc3,d6,e4,Nh7,e5,dxc5,dxc5,Qxd1,Rxd1,c6,Rd6,f5,Nd4,Re8,Bf3,Nd7,Bh5,Re7,Nf3,Bb8,Bf4,g5,Be3,g4,Nd4,Nxe5', 'Rd8+,Kg7,Rxc8', 'https://lichess.org/training/0Wcv2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0wj4N', 'Blitz', 'GM enmQ', 2592, 'Ensemo', 2296, 'd4,c6,c4,d5,Nc3,Nf6,Nf3,e6,e3,Nbd7,Qc2,Bd6,g4,h6,Bd2,a6,Rg1,Qe7,h4,e5,g5,hxg5,hxg5,Ne4,Nxe4,dxe4,Qxe4,Bb4,O-O-O,Bxd2+,Rxd2,a5,c5,a4,Bc4,Ra5,Kb1,g6,Rgd1,Rh5,Nxe5,Nxe5,dxe5', 'Bf5,Qxf5,gxf5', 'https://lichess.org/training/0wj4N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0WJiV', 'Rapid', 'satinvictus', 1899, 'Cas4dor', 1901, 'e4,c5,Nf3,d6,Be2,Nc6,O-O,Nf6,d3,e6,Bg5,Be7,c3,O-O,Nbd2,h6,Bf4,Bd7,h3,a6,d4,cxd4,cxd4,Qb6,Nc4,Qc7,e5,dxe5,Nfxe5,Nd5,Bg3,Qd8,Nxd7,Qxd7,Ne5,Qe8,Qd3,Nxe5,dxe5,Rd8,Qe4,Bc5,Rfd1,Qe7,Kh2,Qg5,Bg4,h5,h4', 'Qxg4,Qxg4,hxg4', 'https://lichess.org/training/0WJiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0wLpA', 'Rapid', 'ChessCholula', 2273, 'LionLebedev', 1978, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,Bg5,O-O,e3,h6,Bxf6,Bxc3+,bxc3,Qxf6,Ne5,Nd7,Ng4,Qe7,c5,Nf6,Nxf6+,Qxf6,Bd3,Bd7,Qc2,a6,O-O,Bb5,c4,dxc4,Bxc4,Bxc4,Qxc4,Rac8,d5,exd5,Qxd5,Qc6,Qxc6,bxc6,Rfd1,Rfd8,Kf1,Rd5,Rxd5,cxd5,Rd1,c6,Rb1,a5,Rb7,Ra8,Rb6,Rc8,Ra6,Rb8,Rxc6,Rb1+,Ke2,Rb2+,Kf3,Rxa2,Rd6,Rd2,Ra6,Ra2,Ra8+,Kh7,Ra7,Kg6,c6,a4,c7,Rc2,e4,dxe4+,Kxe4,a3,Kd3,Rc6', 'Ra6,Rxa6,c8=Q', 'https://lichess.org/training/0wLpA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0wLVN', 'Blitz', 'AlteredCarbon27', 2583, 'GM benlyli', 2555, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nbd7,Bd3,h6,Bh4,g5,fxg5,Ne5,Qe2,Nfg4,h3,hxg5,Bg3,Nf6,Nf3,Nh5,Bh2,Nf4,Bxf4,gxf4,Rhf1,Bd7,Kb1,Rc8,Qf2,b5,Nd4,b4,Nce2,Nxd3,cxd3,e5,Rc1,Qb6,Rxc8+,Bxc8,Nf3,Qxf2,Rxf2,Bd8,Kc2,Bb6,d4,Bb7,Nd2,Ke7,Kd3,Rc8,g3,a5,b3,Bxd4,Nxd4,Rc3+,Ke2,exd4,Rxf4,Rxg3,h4,Rh3,Nf3,Ba6+,Kd2,f6,Nxd4', 'Rd3+,Kc1,Rxd4', 'https://lichess.org/training/0wLVN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0WMOr', 'Rapid', 'NASROLLAH1357', 1904, 'CuxTraining3', 2002, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,h3,Na5,Bb5+,c6,Ba4,b5,Bb3,Nxb3,axb3,O-O,Bg5,h6,Bh4,Re8,Nc3,a6,Ne2,d5,exd5,cxd5,c3,Qd6,d4,exd4,Nexd4,Ne4,Nxb5,Qb6,Nbd4,Bd7,b4,Bd6,Ra5,g5,Bg3,Bxg3,fxg3,Bb5,Re1,Nxg3,Rxe8+,Rxe8,Kh2,Ne2,Nxe2,Bxe2,Qxd5,Bxf3,Qxf3,Re3,Qf2', 'Rxh3+,Kg1,Rh1+,Kxh1,Qxf2', 'https://lichess.org/training/0WMOr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0WO7U', 'Rapid', 'Varum2011', 1976, 'ronin7887', 2027, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,h6,Bh4,d6,Nc3,Be6,Bxe6,fxe6,a3,a6,h3,Qe7,Qd2,Nd4,Nxd4,exd4,Ne2,g5,Bg3,e5,Bh2,Bb6,Ng3,O-O-O,Nf5,Qd7,O-O-O,Rh7,g3,Bc5,f4,g4,fxe5,dxe5,h4,h5,Rhf1,Qe6,Kb1,Qb6,Ka2,Kb8,Bg1,Nd7,c3,dxc3,Qxc3,Bxg1,Rxg1,Nc5,Ne3,Rhd7,Nd5,Qb5,Rgf1,Ka7,Qxe5,Qb3+,Ka1,Nxd3,Qd4+,b6,Qxd3,Qxd3,Rxd3,c6,Rfd1,cxd5,Rxd5,Rxd5,Rxd5,Rxd5,exd5,Kb7,b4,Kc7,Kb2,Kd6,Kc3,Kxd5,Kd3,Ke5,a4', 'Kd5,Ke3,Kc4', 'https://lichess.org/training/0WO7U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0WtbO', 'Rapid', 'ALEKSEY_GLUSHKO', 1985, 'cacopreviero', 1995, 'd4,d5,Nf3,c6,g3,h6,Bg2,e6,b3,Nf6,Bb2,Bd6,O-O,Nbd7,Nbd2,O-O,c4,Nh7,Rc1,f5,e3,Ng5,Ne5,Nxe5,dxe5,Bc7,h4,Nf7,f4,Bd7,Nf3,Bb6,Nd4,Qe8,Bf3,Nh8,Bh5,Qe7,Kh2,Rac8,Kh3,Kh7,g4,g6,gxf5,gxh5,fxe6,Bxe6+,f5,Bd7,Qxh5,Qf7', 'Qxf7+,Nxf7,e6', 'https://lichess.org/training/0WtbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0WuZU', 'Classical', 'RobbyR', 1947, 'Ab1941', 1982, 'e4,e6,d4,d5,Nc3,Nf6,Bd3,Bb4,Bg5,Be7,Nf3,O-O,O-O,h6,Bxf6,Bxf6,Re1,c5,e5,Be7,Ne2,c4,Bxc4,dxc4,c3,b6,Qa4,Bb7,Nd2,Qd5,f3,b5,Qc2,Nd7,Ne4,Rac8,a4,b4,Nf4,Qa5,cxb4,Bxb4,Red1,Nb6,Nh5,Nd5,Kh1,Ne3', 'Nef6+,gxf6,Nxf6+,Kg7,Qh7#', 'https://lichess.org/training/0WuZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0WvGZ', 'Rapid', 'Vasilroztripenko1', 2139, 'PakSipayung', 2211, 'e4,c5,d4,cxd4,c3,d3,c4,Nf6,Bxd3,d6,Nc3,e6,Nge2,Be7,O-O,O-O,Kh1,a6,f4,b6,Qc2,Nbd7,Be3,Bb7,Rad1,Qc7,b3,h6,Qd2,Ng4,Bg1,Nc5,h3,Nf6,Ng3,Nxd3,Qxd3,Rac8,Rc1,Nd7,f5,Bf6,Nh5,Be5,fxe6,fxe6,Bd4,Nc5,Qe3,Bxd4,Qxd4,e5,Qe3,Ne6,Nd5,Bxd5,cxd5,Rxf1+,Rxf1,Nd4,Qg3,Kh7,Qf2,Qe7,Qf7,Rc7', 'Nf6+,Qxf6,Rxf6,Rxf7,Rxf7', 'https://lichess.org/training/0WvGZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0WxXl', 'Blitz', 'jwinnfield', 1826, 'secousse_sismique', 1723, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Nf6,Nc3,Be7,Re1,O-O,Ne2,h6,Ng3,Qd7,b3,Qg4,Qxg4,Nxg4,Bb2,Ne5,f4,Nd7,c4,Bf6,e5,dxe5,fxe5,Bg5,Rad1,Nc5,Ne4,Nxe4,Rxe4,Rae8,Rd7,Re7,Red4,Rfe8,Rd3,a5,g3,h5,Kg2,g6,Kf3,Bh6,g4,hxg4+,Kxg4,Bg7,Kf4,Bxe5+,Bxe5,Rxe5,Rxc7,Re4+,Kf3,Re2,Rdd7,R2e3+,Kf2,Re2+,Kf3,R2e3+,Kf2,Re2+,Kg3,R2e3+,Kf4,R3e4+,Kg5', 'R8e5+,Kh6,Rh4#', 'https://lichess.org/training/0WxXl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Wy3s', 'Blitz', 'roberat18', 2489, 'CM aaro73', 2434, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Bg4,Be2,e6,O-O,Nc6,c4,Nb6,exd6,cxd6,Nc3,Bxf3,Bxf3,Nxc4,d5,N6e5,dxe6,fxe6,Bxb7,Rb8,Ba6,Nb6,Bb5+,Kf7,f4,Ng6,f5,exf5,Rxf5+,Kg8,Bc4+,Nxc4', 'Qd5#', 'https://lichess.org/training/0Wy3s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0WzmC', 'Rapid', 'csnyder', 1899, 'TimeTravel_00', 1919, 'e4,c5,Nc3,Nc6,Nf3,e6,Bc4,Qc7,O-O,Nf6,Re1,Ng4,h3,h5,Qe2', 'Nd4,Qd3,Nxf3+', 'https://lichess.org/training/0WzmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0wzmp', 'Rapid', 'igor142', 1894, 'tekawe56', 1830, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bg4,h3,Bxf3,Qxf3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd2,b5,Nb3,Qd6,Qe3,Be7,O-O,O-O,Rfd1,c5,c3,Qb6,Rab1,a5,c4,a4,Nd2,b4,a3,h6,Qg3,Bg5,Nf3,Bf4,Qg4,g6,h4,h5,Qh3,Kg7,g3,Bh6,Nxe5,Qd6,Nf3,Rae8,Qg2,f6,Ne1,f5,f3,Be3+,Kh2,fxe4,dxe4,Qc6,Nc2,Rxe4,Rd3,Rxf3,Qxf3', 'Rxh4+,Kg2,Rh2+,Kxh2,Qxf3', 'https://lichess.org/training/0wzmp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0xA4f', 'Rapid', 'Ahmanz', 1654, 'creeperland', 1762, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,d5,Nf3,O-O,e3,b6,Bd3,Ba6,Qc2,Bxc4,Bxc4,dxc4,Qa4,Qd5,O-O,b5,Qb4,a5,Qb2,Nbd7,Re1,Rfb8,Nd2,c5,e4,Qc6,e5,Nd5,Ne4,b4,axb4,cxb4,cxb4,axb4,Rxa8,Rxa8,Qe2,Nf4,Qf3,Nd3', 'Nf6+,gxf6,Qxc6', 'https://lichess.org/training/0xA4f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0xd8L', 'Blitz', 'Mdsonson', 1969, 'Roberto1953', 1967, 'd4,e5,e3,exd4,exd4,d5,c4,Nf6,Nc3,Bf5,c5,Be7,h3,O-O,Bd3,Bg6,Nge2,c6,Bf4,Nbd7,O-O,Ne4,Nxe4,dxe4,Bc4,Nf6,a3,Nd5,Bh2,f5,Nf4,Bf7,Ba2,Kh8,Nxd5,cxd5,Be5,Qe8,Rc1,Rc8,b4,Bh5,Qb3,Be2,Qxd5,Bxf1,Rxf1,Rc6,Bb3,Rg6,Qxb7,f4,Qxe4,f3,g3,Bf6,Kh2,Bxe5,Qxe5,Qd7,Re1,Rh6,h4,Qg4,Qe8', 'Rxh4+,Kg1,Rh1+,Kxh1,Qh3+,Kg1,Qg2#', 'https://lichess.org/training/0xd8L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0xFzg', 'Rapid', 'QueenBorthwick', 1774, 'hamidrezam10', 1916, 'd4,g6,c4,Bg7,Nc3,Nf6,Bf4,b6,e4,d6,Nf3,O-O,d5,e6,Bd3,Bb7,Bg5,Qe8,O-O,Nbd7,Qd2,c5,Rfe1,Rd8,Bh6,Nb8,Bxg7,Kxg7,Qf4,Na6,e5,dxe5,Nxe5,Nb4,Re3,Nxd3,Nxd3,Qd7,Rh3,exd5,Ne5,Qd6,Qh6+,Kg8,Ng4,Nh5', 'Rxh5,gxh5,Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/0xFzg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0xGsV', 'Rapid', 'Moha_98', 1681, 'Mzvalexander', 1603, 'd4,d5,Nf3,Nc6,Bf4,Nf6,Nc3,Bf5,Nb5,Rc8,a3,a6,Nc3,e6,e3,Bd6,Bxd6,Qxd6,Bd3,Ne4,Bxe4,Bxe4,Nxe4,dxe4,Nd2,Qd5,c4,Qf5,O-O,O-O,Qc2,e5,d5,Ne7,Qxe4,Qxe4,Nxe4,c6,d6,Nf5,c5,Rcd8,g4,Nh6,h3,f5,g5,fxe4,gxh6,gxh6,Kh2,b6,Rg1+,Kf7,b4,Ke6,Rad1,Rxf2+,Kg3,Rf3+,Kh2,Rxe3,Rg3,Re2+,Rg2,Rxg2+,Kxg2,Kf5,Rf1+,Kg5,Rf7,bxc5,bxc5,Kg6,Ra7,h5,Rxa6,Rg8,Rxc6,Kf6+,Kf2,Ke6,a4,Kd5,Rc7,h6,d7,Ke6,c6,Kd6,Rc8,e3+,Kf3,e4+,Kxe4', 'e2,d8=Q+,Rxd8', 'https://lichess.org/training/0xGsV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0xJZq', 'Rapid', 'Adnanalmasalmah', 1980, 'Delfou', 1856, 'b4,f6,b5,d5,a4,e5,e3,Be6,Ba3,Bd6,Bxd6,Qxd6,Be2,Ne7,Nf3,O-O,O-O,e4,Nd4,c5,bxc6,Nbxc6,Nxe6,Qxe6,Na3,a6,Qb1,Qd6,c3,f5,Nc2,f4,exf4,Rxf4,Ne3,Raf8,Qe1,Ne5,g3,Qg6,Rb1,Rh4,Kh1,Rh6,Rxb7,Nf3,Bxf3,exf3,Rxe7,Qh5,h4,Rf4,Ng2,fxg2+,Kxg2,Rxh4,Rg1,Re4,Rxe4,Qh3+,Kf3,dxe4+,Qxe4', 'Rf6+,Ke3,Re6', 'https://lichess.org/training/0xJZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0xKSs', 'Rapid', 'caballada29', 1816, 'asad68', 1748, 'd4,Nf6,c4,d5,Nf3,c5,e3,e6,Nc3,a6,cxd5,exd5,dxc5,Bxc5,Be2,O-O,O-O,Nc6,Qb3,b5,Rd1,Na5,Qc2,Nc4,b3,Na3,Qd3,Bb7,Nd4,Ne4,f3,Nxc3,Qxc3,Be7,b4,Nc4,Bxc4,dxc4,a3,Bf6,Bb2,Qe7,Nf5,Qc7', 'Nh6+,gxh6,Qxf6', 'https://lichess.org/training/0xKSs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0XM3h', 'Classical', 'ckelly98', 1646, 'ItsSicilian', 1637, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,Re1,Be7,Nxe5,O-O,b3,Bf5,c4,Re8,Bb2,Bf6,Nd2,Nc8,Ndf3,g6,Qc1,Bg7,c5,a6,Bc3,Na7,a4,b5,Ba5,Bxe5,Rxe5,Rxe5,dxe5,Qd5,Qb2,Rd8,h3,Bxh3,Bxc7,Rd7,Bd6,Bg4,Nd4,Nc8,axb5,Nxd6,Rxa6,Nxb5,Nxc6,Qd2,Qxd2,Rxd2,Ra8+,Kg7,Rb8,Nd4,Nxd4,Rxd4,b4,Re4', 'f3,Bxf3,gxf3', 'https://lichess.org/training/0XM3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Xo3X', 'Rapid', 'romul', 1748, 'edemus', 1754, 'd4,d5,c4,e6,Nc3,Nf6,e4,Nxe4,Nxe4,dxe4,a3,Nd7,Be3,Nf6,Ne2,b6,Nf4,Bd6,Be2,Bxf4,Bxf4,O-O,O-O,Bb7,Be3,Qd6,Qc2,Ba6,b4,e5,b5,exd4,Bxd4,Qxd4,bxa6,c5,Kh1,Rfe8,f4,exf3,Bxf3,Rad8,Bc6,Rf8,Rad1,Qh4,Rde1,Rd4,Bb5,Qg5,Rf5,Qh6,Qf2,Ng4,Qg3,Nxh2,Qxh2', 'Rh4,Qxh4,Qxh4+', 'https://lichess.org/training/0Xo3X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0XouO', 'Rapid', 'Delm1111', 2054, 'cmpajedrez', 1956, 'e4,e5,d4,exd4,Nf3,d6,c3,dxc3,Nxc3,Nc6,Bc4,h6,O-O,Nf6,e5,dxe5,Bxf7+,Kxf7,Nxe5+,Ke7,Ng6+,Ke8,Re1+,Be7,Qb3,Rg8,Bf4,Qd7,Rad1,Qe6,Rxe6,Bxe6,Qxe6,Rf8,Nxf8,Kxf8,Bxc7,Re8,Rd8,Nxd8,Bxd8,Bxd8,Qd6+,Be7,Qc7,Bd8,Qc5+,Kg8,f3', 'Bb6,Qxb6,axb6', 'https://lichess.org/training/0XouO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0XpCB', 'Rapid', 'Diyaa84', 1807, 'magnusfirojza', 1713, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,Be7,O-O,O-O,Qd1,Re8,Re1,Bb4,f3,c6,a3,Bxc3,bxc3,Qb6+,Be3,Qb2,Qd2,d5,Bb3,dxe4,Reb1,Qxb1+,Rxb1,exf3,gxf3,Be6,Bxe6,Rxe6,Rxb7,Rae8,Bxa7,Re1+,Kf2,Rh1,Rb8', 'Rxh2+,Kg3,Rxd2,Rxe8+,Nxe8', 'https://lichess.org/training/0XpCB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0XqIO', 'Blitz', 'rey_conquistador', 2033, 'albertzav', 1992, 'e4,e6,Nf3,Nc6,d4,Nf6,Bd3,d6,O-O,Bd7,c4,a6,Nc3,Qe7,a3,h6,e5,dxe5,dxe5,Ng4,Re1,O-O-O,h3,h5,hxg4,hxg4,Bg5,f6,exf6,gxf6,Nd5,Qd6,Bxf6,Rh6,Bxd8,gxf3,Qxf3,Qh2+,Kf1,Bc5,Bxc7', 'Qh1+,Ke2,Nd4+,Kd2,Nxf3+', 'https://lichess.org/training/0XqIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0XsaW', 'Classical', 'Sozib03', 1844, 'Borcia91', 1768, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,O-O,gxf3,Qxf3,Qf6,d3,Bh6,Nc3,Ne7,Bxf4,Bxf4,Qxf4,Qxf4,Rxf4,d6,Bxf7+,Kd8,Bb3,Bd7,Raf1,Ng6,Rf7,Be8,Rg7,Nd7,Bf7,c6,d4,Kc7,Be6,Rd8,Bg8,h5,Be6,b5,Rf6,b4,Nd1,c5,Ne3,cxd4,Nd5+,Kc6,Rgxg6,Bxg6,Rxg6,Nf8,Nxb4+,Kb5,Rg5+,Kxb4', 'a3+,Ka4,Bb3#', 'https://lichess.org/training/0XsaW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0xuEb', 'Rapid', 'SlavkoSah', 1876, 'Muleskinner', 2006, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,c4,Nge7,Nc3,d4,Ne4,Nf5,g4,Nh4,g5,Nxf3+,Qxf3,Nb4,Kd1,Be7,a3,Nc6,h4,Bd7,b3,Qb6,Rb1,Na5,Be2,Nxb3,Rxb3,Ba4,Kc2,f6,exf6,gxf6,gxf6,Bd6,Kb2,Bxb3,Qxb3,Qxb3+,Kxb3,Kd7,d3,Rhg8,Bf3,Rab8,a4,a6,Ba3,b5,cxb5,axb5,axb5,Rxb5+,Kc4,Ra5,f7,Rb8,Bxc5', 'Ra4+,Bb4,Raxb4#', 'https://lichess.org/training/0xuEb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Xurf', 'Rapid', 'BertM11', 1604, 'Alaga', 1708, 'd4,g6,c4,Bg7,Nf3,e6,Bf4,a6,e3,Ne7,Nc3,d6,Bd3,O-O,Qd2,f5,O-O,Rf7,e4,Qf8,exf5,Nxf5,Ng5,Re7,d5,e5,Bxf5,Qxf5,Be3,Nd7,Nge4,Nf6,Nxf6+,Bxf6,Rae1,Qg4,Bh6,Qxc4,Ne4,Bh8,b3,Qd4,Qxd4,exd4,Bg5,Rf7,f4,Bf5,Nd2,d3,Re3,Bd4,Re1,c5,Kh1,Bxe3,Rxe3,b5,Bh6,Rc8,h3,c4,bxc4,bxc4,Nxc4,d2,Nxd2,Rb7,g4,Bd7,Re7,Rbc7,Ne4,Bb5', 'Nf6+,Kh8,Bg7#', 'https://lichess.org/training/0Xurf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Xxnx', 'Rapid', 'patxon', 1659, 'MFredo', 1749, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Nf6,d3,h6,a3,d6,Ba2,Be7,Be3,O-O,c3,b6,b4,Bb7,b5,Na5,Qd2,d5,e5,Nd7,d4,Nc4,Bxc4,dxc4,Ne1,cxd4,cxd4,a6,Nc3,f6,exf6,Nxf6,Bxh6,gxh6,Qxh6,Qxd4,Qh3,Rf7,Ne2,Qe5,Nf3,Qxe2,Ng5,Rg7,Rae1,Qxe1,Rxe1,Rxg5', 'Qxe6+,Kh8,Qxe7,Rxg2+,Kf1', 'https://lichess.org/training/0Xxnx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Xxvg', 'Classical', 'monahhhh', 1771, 'Petarstrov', 1614, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Qe2,a6,Bxd7+,Nxd7,d4,e6,Nf3,Bd6,a3,Ne7,Bg5,Qb6,b4,Nf5,c3,Rc8,O-O,Qb5,Qxb5,axb5,a4,bxa4,Rxa4,b5,Ra5,Nb6,Rxb5,Na4,Bd2,O-O,Ra5,Ra8,Rxa8,Rxa8,h3,Nb2,Bc1,Nd3,Rd1,Ra1,Rxd3', 'Rxb1,Rd1,Bf4', 'https://lichess.org/training/0Xxvg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0xXXu', 'Blitz', 'Lituano-BR', 1711, 'marcusfrex', 1767, 'd4,d5,Bg5,h6,Bh4,Nf6,h3,e6,a3,Be7,e3,Nbd7,Bb5,c6,Ba4,b5,Bb3,Bb7,Bg3,Rc8,c3,Ne4,Ne2,a5,Bc2,Nxg3,Nxg3,Nf6,Qg4,Nxg4,hxg4,Bd6,Nh5,g6,Nf4,Bxf4,exf4,Qf6,g3,c5,dxc5,d4,O-O,dxc3,Nxc3,Rxc5,f5,exf5,gxf5,gxf5,Rfe1+,Kf8,Re3,f4,gxf4,Rg8+,Kf1,Qg7,Be4,Bxe4,Nxe4,Qg1+,Ke2,Rc2+,Kd3,Qxa1,Kxc2,Kg7,Rg3+,Kh7', 'Nf6+,Kh8,Rxg8#', 'https://lichess.org/training/0xXXu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Xyfd', 'Blitz', 'rfesen', 1835, 'kubajaz', 1876, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,c5,Bd3,c4,Be2,Be7,c3,Nc6,Nbd2,O-O,Qc2,a5,Ne5,Nxe5,Bxe5,b5,h4,b4,h5,h6,g4,Nd7,Nf3,f6,Bf4,a4,a3,bxc3,bxc3,f5,g5,hxg5,Be5,Nxe5,Nxe5,Bd7,h6,Bf6', 'h7+,Kh8,Ng6#', 'https://lichess.org/training/0Xyfd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0xZ8q', 'Rapid', 'sop', 1761, 'VaselineTopalov', 1617, 'd4,d5,c4,e6,Nc3,c5,cxd5,exd5,e3,cxd4,exd4,Bb4,Nf3,Bg4,Bb5+,Nc6,O-O,Nf6,Re1+,Be7,Ne5', 'Bxd1,Nxc6,bxc6', 'https://lichess.org/training/0xZ8q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Xzby', 'Rapid', 'ovkamk', 1709, 'Subeedei', 1749, 'e4,Nc6,Bc4,f5,exf5,Nf6,Ne2,d5,Bb5,Bxf5,Bxc6+,bxc6,Ng3,Qd7,d3,Qe6+,Qe2,Qxe2+,Kxe2,Bg4+,f3,Bd7,Bg5,h6,Bxf6,gxf6,Re1,e5,Kf2,Bd6,d4,O-O-O,dxe5,fxe5,Nc3,Bc5+,Kf1,Rhf8,Rxe5,Kb7,Na4,Bb6,Ne2,c5,Rxd5', 'Bxa4,Rxd8,Rxd8', 'https://lichess.org/training/0Xzby');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0y1oD', 'Rapid', 'LivisKivis', 1707, 'DmitriyShah', 1792, 'e4,e5,f4,d5,exd5,Qxd5,Nc3,Qd6,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,exf4,O-O,O-O-O,Ne4,Qb6+,d4,f5,Neg5,Nh6,Bxf4,Nc5,Qe2,Ne4,Nxe4,fxe4,Ng5,Rd7,Be3,Bd6,d5,Qxb2,Ne6,Re8,Bd4,Qa3,Rab1,Rxe6,dxe6,Bxh2+,Kxh2,Rxd4,Rb3,Qd6+,Kh1,e3,Qb5', 'Rh4+,Kg1,Qh2#', 'https://lichess.org/training/0y1oD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0yDk9', 'Rapid', 'Sanarica', 1637, 'Kastropov12', 1607, 'e4,e5,Nf3,Nf6,Nc3,Bc5,h3,Nc6,a3,d5,d3,dxe4,dxe4,Bd7,Bd3,O-O,Bg5,h6,Bh4,g5,Bg3,Nh7,Nxe5,Nxe5,Bxe5,f5,exf5,Rxf5,Bg3,Qe7+,Kf1,Rf6,Nd5,Qf7,Nxf6+,Qxf6,c3,Rf8,Qd2,Qc6,Qc2,Nf6,b4,Bd6,Bc4+,Kg7,Bxd6,Qxc4+,Kg1,cxd6,Rd1,Ne4,Rc1,Rxf2,Qd1,Bb5,Kh2,Qe6,Qd4+,Kg6,Rhe1,Qe5+,Qxe5,dxe5,Rxe4,Bc6,Ree1,Rxg2+,Kh1,Rg3+,Kh2,Rg2+,Kh1,Ra2+,Kg1,Rxa3,Rxe5,Ra2,Re3,Rg2+,Kf1,Rh2,Kg1', 'Rh1+,Kf2,Rxc1', 'https://lichess.org/training/0yDk9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0YEas', 'Blitz', 'Achil', 1976, 'caen64', 1938, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bg6,Nf3,e6,Be3,Ne7,Nc3,Nd7,Qd2,Qb6,O-O-O,Nf5,g4,Nxe3,fxe3,Bb4,a3,Ba5,h4,c5,h5,Bxd3,Qxd3,c4,Qd2,Qc6,Ng1,Nb6,Nge2,Na4,Kb1,Nxc3+,Nxc3,b5,g5,b4,axb4,Bxb4,g6,fxg6,hxg6,h6,Rdf1,O-O-O,Rf7,Rhg8,Rhf1,a5,Ra7,Rdf8,Rff7,Rxf7,Rxf7,a4,Qf2,Bxc3,Rf8+,Rxf8,Qxf8+,Kb7,Qe7+,Ka6,bxc3,Qb6+,Qb4,Qxb4+,cxb4,Kb5,c3,a3,Ka2,h5,e4,h4', 'exd5,h3,dxe6,h2,e7,h1=Q,e8=Q+', 'https://lichess.org/training/0YEas');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0YeTE', 'Rapid', 'Kolbasz', 1850, 'Ku_ki', 1788, 'e4,Nc6,d4,e5,d5,Nce7,c4,d6,Nf3,f5,Nc3,f4,g3,fxg3,fxg3,h5,Bg5,Nf6,Be2,Bg4,Bxf6,gxf6,Nh4,Rg8,Bxg4,hxg4,Rf1,Bh6,Rxf6,Bg5,Re6,Bxh4,gxh4,Qd7,Qa4,c6,O-O-O,b5,cxb5,cxb5,Nxb5,Rc8+,Kb1,Kf8,Rf1+,Kg7,Nxd6,Qxa4', 'Rf7+,Kh8,Rh6#', 'https://lichess.org/training/0YeTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0YgCD', 'Blitz', 'patalanoc', 1643, 'kayPee7', 1684, 'c4,f5,Nc3,Nf6,Nf3,e6,g3,c6,Bg2,d5,cxd5,cxd5,O-O,Bc5,d4,Bb6,Bf4,O-O,e3,Bd7,Ne5,a6,Nxd7,Nbxd7,Qb3,Rc8,Be5,Nxe5,dxe5,Ng4,Na4,Bc7,Qxb7,Bxe5,Qxa6,Qf6,Rac1,Rxc1,Rxc1,Bxb2,Nxb2,Qxb2,Qxe6+,Kh8,Rc8', 'Qxf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/0YgCD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0YgHN', 'Rapid', 'naveedanjum', 1912, 'psinaglina', 1828, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bf4,O-O,e3,c6,c5,b6,b4,a5,a3,axb4,axb4,Rxa1,Qxa1,bxc5,bxc5,Bd7,Bd3,Qc8,O-O,Nh5,Bg3,Nxg3,fxg3,Qc7,Ne5,f6,Nxd7,Nxd7,Qd1,e5,Qh5,e4,Bc2,Qa5,Nxd5,Bd8,Nf4,g6,Nxg6,hxg6,Qxg6+,Kh8,Bxe4,f5,Rxf5,Rxf5,Qxf5', 'Qe1+,Qf1,Qxe3+,Kh1,Qxe4', 'https://lichess.org/training/0YgHN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0yGpA', 'Rapid', 'srafaelz', 1846, 'Laziel', 1845, 'e4,e6,d4,d6,Nc3,Be7,Bf4,Nf6,Qd2,Bd7,O-O-O,O-O,Bd3,a5,Nge2,a4,a3,Ng4,Ng3,e5,h3,exf4,hxg4,fxg3,e5,f5,Bc4+,Kh8,fxg3,Bg5,gxf5,Bxd2+,Kb1,Bxc3', 'Rxh7+,Kxh7,Rh1+,Qh4,Rxh4#', 'https://lichess.org/training/0yGpA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Yh7D', 'Rapid', 'SoMuchMissTeodora', 1860, 'Muuustafaaa62', 1885, 'c4,e5,Nc3,d6,g3,Nf6,Bg2,c6,d3,Be7,Nf3,O-O,b4,Be6,a3,Nbd7,Nd2,Rb8,Nde4,h6,Bd2,Nxe4,Nxe4,Nf6,Qc1,Nxe4,Bxe4,d5,cxd5,cxd5,Bf3,f5,Bxh6,gxh6,Qxh6,Rf6,Qg5+,Kf8,O-O,Qe8,h4,Qg6,Qe3,e4,Qxa7,Bd6,Bg2,f4,dxe4,dxe4,Rad1,Be5', 'Qc5+,Kg7,Qxe5', 'https://lichess.org/training/0Yh7D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0YIf7', 'Blitz', 'Hipos_are_number_one', 1699, 'janovetiger1', 1663, 'd4,Nf6,Bf4,d6,e3,g6,Nc3,Bg7,e4,O-O,h4,a6,h5,Nxh5,Rxh5,gxh5,Qxh5,Nd7,Bd3,e5,dxe5,dxe5,Bh6,Nf6', 'Qg5,Nh5,Qxh5,Bxh6,Qxh6', 'https://lichess.org/training/0YIf7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0YJV4', 'Blitz', 'Ricardo-Rojo', 2088, 'Grecchi80', 2068, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nc3,exd4,Qxd4,Nc6,Qe3,Nf6,Bc4,Be7,g3,O-O,O-O,Ne5,Be2,Bg4,f4,Bxe2,Qxe2,Ng6,Be3,b6,Rad1,Rc8,e5,Ne8,Ne4,d5,Nf2,Bc5,c3,Bxe3,Qxe3,Nc7,f5,Ne7,Ng4,Nc6,f6,d4,Qg5,Ne6,Qh4,Kh8', 'fxg7+,Kxg7,Qh6+,Kh8,Nf6', 'https://lichess.org/training/0YJV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ylxH', 'Rapid', 'sergey_nikolaevich', 1649, 'ahmead', 1650, 'd4,d6,Nf3,Nc6,d5,Ne5,e4,Nf6,c4,Nxe4,Bd3,Nc5,Nxe5,dxe5,Be3,b6,Bc2,e6,Nc3,Na6,O-O,exd5,Nxd5,Be6,Ba4+,c6,Bxc6+,Bd7,Bxa8,Qxa8,Nc7+,Nxc7,Qb3,Bd6,Rad1,Qc6,c5,Bxc5,Rc1,Ne6,Qd3,O-O,b4,Qb5,Qxb5,Bxb5,bxc5,Bxf1,Kxf1,bxc5,g3,Rc8,Ke2,h6,Kf1,a6,h4,c4,Bd2,Nd4,Bc3,Nf3,Ke2,e4,Ke3,f5,Rd1,Rc7,Rd8+,Kh7,Ra8,Rc6,Ra7,Rg6,Rc7,Nh2,Rxc4,Ng4+,Ke2,Re6,Rc7,Rg6,f3,exf3+,Kxf3,Nh2+,Kg2,Ng4,Kf3,Nh2+,Kg2,Ng4,Kf3,h5,Kg2,Nh6,Kf3,Ng8,Kg2,Nf6,Kh2,Nd5,Rc4,Ne3,Rc7,Nf1+,Kg2,Nxg3,Kf3,Nf1,Ke2,Ng3+,Kf3,Ne4,Bb2,Rg3+,Kf4,Kg6', 'Rxg7+,Kh6,Rxg3,Nxg3,Kxg3', 'https://lichess.org/training/0ylxH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Ylzq', 'Rapid', 'jaygxd', 1766, 'Lupin_5', 1721, 'd4,e6,c4,b6,Nc3,Bb7,Nf3,Bb4,Bd2,Bxc3,Bxc3,Bxf3,exf3,Nc6,Be2,Nf6,d5,exd5,cxd5,Ne7,O-O,Nexd5,Bxf6,Nxf6,Re1,O-O,f4,c6,Bc4,d5,Bb3,Ne4,Bc2,Re8,Qh5,Qf6,f3,Nd2', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/0Ylzq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0YpvD', 'Rapid', 'mironov55', 2004, 'amlan29', 2023, 'd4,Nf6,Bg5,d5,e3,Bf5,Nf3,h6,Bh4,e6,Ne5,c6,c3,Nbd7,f4,g5,fxg5,Ne4,Nxf7,Kxf7,g6+,Bxg6,Bxd8,Rxd8,Bd3,Be7,O-O+,Kg7,Bxe4,dxe4,Nd2,Bg5,Qe2,c5,Rf2,cxd4,cxd4,e5,Raf1,exd4,exd4,e3,Rf5,exd2,Rxg5,hxg5,Qxd2,Nf6,Qxg5,Rhf8,Qe5,Rd5,Qc7+,Rf7,Qc4,Rg5,d5,Be4,Rxf6', 'Rxg2+,Kf1,Rxf6+', 'https://lichess.org/training/0YpvD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0yrVl', 'Rapid', 'Ahmedkamil128n', 1733, 'marcosabelha', 1730, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bc4,Nf6,Nc3,Ne5,b3,Nxc4,bxc4,g6,f4,Bg7,O-O,O-O,f5,Nd7,fxg6,fxg6,Rxf8+,Qxf8,Ne6,Qf7,Nxg7,Kxg7,Qd5,Nb6,Qxf7+,Kxf7,Bb2,Nxc4,Rb1,Nxb2,Rxb2,b6,Nd5,Bb7,c4,e6,Rf2+,Kg7,Nc7,Rc8,Nxe6+,Kh6,Rf3,g5,Rh3+,Kg6,Rg3,h6,Nf4+,Kf7,Nd5,Rxc4,Rf3+,Kg6,Rf6+,Kh5', 'g4+,Kxg4,Ne3+,Kh5,Nxc4', 'https://lichess.org/training/0yrVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0yvi0', 'Rapid', 'abdulllllllah', 1669, 'mhido', 1669, 'e4,Nc6,Nf3,d6,d4,Bg4,d5,Ne5,Bf4,Nxf3+,gxf3,Bh5', 'Bb5+,c6,dxc6,Qa5+,Nc3', 'https://lichess.org/training/0yvi0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0yxDm', 'Classical', 'alihekameli', 1735, 'Azteca2763', 1729, 'd4,g6,Bf4,Bg7,Be5,Bxe5,dxe5,Nc6,f4,d6,e3,dxe5,Qxd8+,Nxd8,Bc4,Ne6,fxe5,Bd7,Nf3,O-O-O,O-O,Bc6,Bxe6+,fxe6,Nd4,Bd5,Nc3,Nh6,h3,Nf5,Nxf5,gxf5,Nxd5,Rxd5,Rad1,Rxe5,Rd3,Rg8,Kf2,h5,Rd4,Rh8,Rfd1,b6,Rd7,Rd5,R1xd5,exd5,Rxd5,e6,Rd2,Rh7,Kf3,e5,g4,hxg4+,hxg4,Rh3+,Kg2,fxg4,Re2,e4,Kf2,g3+,Kg1,c5,c4,Kc7,b3,a5,a3,Kc6,a4,Rh5,Rd2,Rg5,Kg2,Rf5,Re2,Rf3,Kh3,Rf2', 'Rxf2,gxf2,Kg2,Kd6,Kxf2', 'https://lichess.org/training/0yxDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Yxpe', 'Blitz', 'Octocadinion', 2199, 'si_arhan', 2059, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,Be3,Nc6,d5,Ne7,Nd2,Ne8,c5,f5,f3,fxe4,Ndxe4,Nf5,Bf2,Nf6,O-O,Bd7,Nxf6+,Qxf6,Ne4,Qe7,Qb3,Nd4,Bxd4,exd4,Qxb7,dxc5,Bc4,Kh8,Qxc7,Be5,d6,Qh4,Qxd7,Qxh2+,Kf2,Rxf3+,Kxf3,Rf8+,Bf7', 'Qf4+,Ke2,Qxe4+,Kd2,Qe3+', 'https://lichess.org/training/0Yxpe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0yyxl', 'Rapid', 'Wally-gator', 2031, 'vahidrabiee', 1970, 'd4,c5,d5,d6,e4,a6,a4,g6,Nc3,Bg7,f4,Nd7,Nf3,Ndf6,Bc4,Bd7,a5,b5,axb6,Qxb6,O-O,Qb4,Qe2,Nh5,e5,dxe5,fxe5,Nh6,e6,fxe6,dxe6,Bc6,Ng5,Nf5,Rxf5,gxf5,Qxh5+,Kd8,Qd1+,Kc7,Bf4+,Kb7,Qe2,a5,Nh3,Rhd8,Rd1,Bd4+,Kh1,Bxc3,bxc3', 'Rxd1+,Qxd1,Qxc4', 'https://lichess.org/training/0yyxl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0yZ80', 'Blitz', 'luan_pfe', 1559, 'ariff24', 1553, 'e4,e5,Nf3,Nf6,d4,exd4,e5,Nd5,Qxd4,c6,Bc4,Qa5+,Bd2,Qb6,Qxb6,axb6,O-O,Nc7,Nc3,Be7,Rfe1,O-O,Bb3,d5,exd6,Bxd6,Rad1,Ne6,Ne4,Bc5,Nxc5,bxc5,Be3,b5,a3,c4,Ba2,Na6,c3,Nac5,Nd4,Nd3,Re2,Nxd4,Bxd4,h5,g3,Bg4,Rxd3,cxd3,Rd2,Bh3,Rxd3,Rae8,Be3,g5,f3,Kg7,Kf2,f5,Bxg5,Kg6,Bf4,h4,gxh4,Kh5,Kg3,Bf1,Rd6,Re2,Rxc6', 'Rg2+,Kh3,Rgg8#', 'https://lichess.org/training/0yZ80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0z37P', 'Rapid', 'condorenmiami', 2148, 'Ludo_king', 2184, 'd4,Nf6,c4,e5,dxe5,Ng4,Nh3,Nxe5,e3,Bb4+,Bd2,Qe7,a3,Bxd2+,Qxd2,O-O,Nc3,d6,Nf4,Bf5,Nfd5,Qd8,Be2,Nbd7,Nb5,c6,Nxd6,Bg6,Nf4,Nf6,Nxg6,Nxg6,O-O,Qc7,c5,Rad8,Qc3,Nd5,Qd4,Nde7,Bg4,h5,Bh3,b6,b4,a5,Qb2,Rb8,Nf5,Nxf5,Bxf5,bxc5,Rad1,cxb4,Rd7,Qe5,Qc2,c5,Bxg6,fxg6,Qxg6,Rbd8,Ra7,Qf6,Qe4', 'Qxf2+,Rxf2,Rd1+,Rf1,Rdxf1#', 'https://lichess.org/training/0z37P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Z8gh', 'Classical', 'titotytex', 1902, 'guillefg', 1951, 'f4,e5,fxe5,d6,Nf3,Nc6,exd6,Bxd6,d4,Nf6,e3,Ng4,h3', 'Bg3+,Kd2,Nf2', 'https://lichess.org/training/0Z8gh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0z8T1', 'Blitz', 'CM juandivc', 1814, 'Estebandi-2', 1894, 'c4,c5,Nc3,a6,g3,e6,Bg2,Qc7,Nf3,h5,O-O,Nf6,d4,cxd4,Qxd4,Bc5,Qd1,b6,b3,Bb7,Bb2,Nc6,Qc2,Nd4,Nxd4,Bxg2,Nxe6,fxe6,Kxg2,Qb7+,f3,Ng4,Qg6+,Kd8,Qxg7,Ne3+,Kf2', 'Nf5+,Kg2,Nxg7', 'https://lichess.org/training/0z8T1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zbMk', 'Rapid', 'haakon0603', 1816, 'Calentando', 1888, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d5,c3,e6,Nbd2,O-O,Bd3,Nbd7,h4,h5,Ng5,b6,Ndf3,Bb7,Qc2,Re8,Bxg6,fxg6,Qxg6,Nf8,Qd3,Ne4,Ne5,Nh7,f3,Nexg5,hxg5,Nxg5,Bxg5,Qxg5,O-O-O,Bxe5,dxe5,Qxe5,Rh4,Kf7', 'Qh7+,Kf8,Rf4+,Qxf4,exf4', 'https://lichess.org/training/0zbMk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zCXP', 'Classical', 'selton1p', 2036, 'foign', 2066, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,Nc6,Bg5,Be7,Nf3,O-O,Bxf6,Bxf6,cxd5,Re8+,Be2,Nb4,Qb3,Nd3+,Kf1,Nf4,Bb5,Re7,g3,Bh3+,Kg1,Bg2,gxf4', 'Bxf3', 'https://lichess.org/training/0zCXP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zF2Q', 'Rapid', 'jortiz34', 1844, 'Majidjun', 1826, 'e4,e5,Nf3,Nc6,Bb5,Qf6,O-O,h6,Nc3,Bd6,d3,a6,Ba4,b5,Bb3,Na5,Nd5,Qg6,Nxc7+,Bxc7,Bd5,Rb8,Be3,Ne7,Ba7,Nxd5,Bxb8,Bxb8,exd5,O-O,Rc1,d6,Kh1,Bg4,h3,Bf5,Nh4,Qh7,Qd2,Nb7,b4,Bd7,c4,g5,Nf3,g4,Ng1,gxh3,Nxh3,Kh8,Rg1,Rg8,Qe3,Bxh3,Qxh3,Ba7,c5,dxc5,bxc5,Bxc5,Qf3,Bd4,Rc7,Nd6,g3,a5', 'Qf6+,Qg7,Qxd6', 'https://lichess.org/training/0zF2Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ZIzH', 'Classical', 'Mikaelbovinick', 1869, 'itsjustjur', 1930, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,b4,Bxb4,c3,Ba5,d4,Bg4,Bxf7+,Kxf7,Ng5+,Qxg5,f3,Qg6,fxg4+,Ke7,Qf3,Nf6,g5,Nxe4,Nd2,Nxc3,dxe5,Nxe5,Re1,Kd7,Qxb7,Bb6+,Kh1,Ng4,h3,Qxg5,Ne4,Qh4,Bg5,Qh5,Nc5+,dxc5,Re7+,Kd6,h4,Nd5,Rae1,Nxe7,Bxe7+,Kd7,Bg5,Rab8,Rd1+,Ke8,Qxb8+,Kf7,Rf1+,Ke6,Qxh8,c4,Qc8+,Kd6,Qf5,Nf2+,Rxf2,Qd1+,Rf1,Qd4,Qf3,Qb2,Rd1+,Kc5,Qd5+,Kb4,Be7+,Kc3,Rd2,Qc1+,Kh2,Qxd2', 'Bb4+,Kxb4,Qxd2+', 'https://lichess.org/training/0ZIzH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ZKPK', 'Blitz', 'CM Alejandropacheco29', 2417, 'iztub', 2356, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,h3,O-O,g4,Be6,g5,Nfd7,Rg1,b5,Qf3,Nc6,O-O-O,b4,Nd5,Bxd5,exd5,Nd4,Nxd4,exd4,Rxd4,Ne5,Qe4,Rc8,f4,Ng6,Rxb4,Qa5,Kb1,Rfe8,Qd4,Bxg5,a3,Bf6,Qb6,Qxd5,Bxa6,Rc6,Qb5,Qf3,Rf1,Qg2,Rg1', 'Qxc2+,Ka2,Rxe3', 'https://lichess.org/training/0ZKPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ZLBD', 'Blitz', 'Helmi_KBPL', 2247, 'FM ald2', 2338, 'c4,c5,g3,e6,Bg2,Nf6,e3,d5,Ne2,d4,exd4,cxd4,d3,Nc6,O-O,e5,f4,Bd6,fxe5,Bxe5,Bf4,O-O,Nd2,Re8,Bxc6,bxc6,Bxe5,Rxe5,Nf3,Re7,Nexd4,Qb6,Kg2,Bg4,Qc2,Rae8,Rae1,Bxf3+,Nxf3,Ng4,c5,Qa5,Qc3,Qxc3,bxc3,Ne3+,Rxe3,Rxe3,Nd4,Rxd3,Rc1,Rd2+,Kf3,Rxa2,h4,Rc8,Nf5,g6', 'Ne7+,Kf8,Nxc8', 'https://lichess.org/training/0ZLBD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zLDM', 'Blitz', 'MP123456', 2021, 'Jdream1', 1899, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,f3,O-O,Qd2,d5,O-O-O,dxe4,fxe4,Qc7,Bh6,Rd8,Bxg7,Kxg7,Qe3,Qb6,Qg1,Nxd4,Bc4,e5,Qe1,Be6,Bxe6,Qxe6,h3,Rac8,g4,b5,a3,a5,g5,Nh5,Nd5,Rxc2+,Kb1,Rdc8,Rf1,b4,axb4,axb4,Qxb4,Qa6,Rxf7+,Kxf7,Qe7+,Kg8,Nf6+,Nxf6,gxf6,R2c7,Qxe5,Nb3,Qd5+,Kh8', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/0zLDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zMdF', 'Rapid', 'Borisbenor', 1742, 'Draco2', 1707, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bd3,Bg4,O-O,Nbd7,Be2,e6,a3,c6,Nd4,Bxe2,Ndxe2,Bd6,d3,O-O,Nf4,h6,Nh5,Rfe8,Nxf6+,Nxf6,Qe2,Qc7,g3,Rad8,Ne4,Nxe4,Qxe4,c5,Qg4,Kh7,c3,Qd7,d4,cxd4,Qxd4,Qc6,Qxa7,Ra8,Qd4,Rad8,Bf4,Bxa3,Qa7,Bd6,Bxd6,Rxd6,Rad1,Rdd8,Rd4', 'Ra8,Qxa8,Rxa8', 'https://lichess.org/training/0zMdF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zMrY', 'Classical', 'deviation', 1747, 'MrCasio', 1796, 'Nc3,Nf6,Nf3,Nc6,e4,e5,d4,exd4,Nxd4,Nxd4,Qxd4,d6,e5,Ng4,h3,Nxe5,Bf4,Qh4,Bxe5,Qe7,Nd5,dxe5,Nxe7,exd4,Nxc8,Rxc8,O-O-O,c5,Bb5+,Kd8,Rhe1,Bd6,c3,a6,Bc4,Rc7,Kc2,b5,Bd5,Re8,Rxe8+,Kxe8,Re1+,Kf8,Kd3,c4+,Kxd4', 'Bc5+,Ke4,Re7+,Kf3,Rxe1', 'https://lichess.org/training/0zMrY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zne1', 'Rapid', 'trimeran', 1612, 'anirban007', 1661, 'c4,d5,cxd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,Qb6,e3,Nc6,Qc2,e6,Nf3,Nb4,Qb3,a5,a3', 'Nd3+,Bxd3,Qxb3', 'https://lichess.org/training/0zne1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zNNs', 'Rapid', 'asawaya', 1787, 'AlexandreLino', 1793, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,f6,h3,Bh5,O-O,Nc6,c4,Bxf3,Bxf3,Qxc4,d3,Qa6,Re1,O-O-O,d4,Rxd4,Qc2,e5,Be3,Rd8,a4,Bd6,Reb1,Nd4,Qe4,Nxf3+,Qxf3,Qc6,Qe2,h5,b4,Qe4,b5,b6,a5,Kb8,axb6,cxb6,Rb2,Rc8,Rba2,Rc7,Qd2,Bb4,Qd1,Rb7,Ra4,Rc8,Rb1,Rc4,Rc1,Rbc7,Rxc4,Qxc4,Bd2,Qc2', 'Qxc2,Rxc2,Bxb4', 'https://lichess.org/training/0zNNs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zNQ6', 'Rapid', 'BurningShadow2001', 1617, 'Qmag49', 1617, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nd4,Bxd5+,Kd6,Qd3,Bf5,Nb5+,Kd7,Be4,Bxe4,Qxe4,c6,Nxd4,exd4,Qxd4+,Kc7,Qe5+,Qd6,Qxd6+,Bxd6,O-O,Rae8,d4,Kc8,c4,Re2,Be3,Rxb2,c5,Bc7,a4,g6,d5,cxd5', 'Bd4,Rc2,Bxh8', 'https://lichess.org/training/0zNQ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0znu8', 'Rapid', 'reggytrades', 1950, 'AGM95', 2048, 'c4,g6,d4,Bg7,Nc3,Nf6,e4,d6,f3,O-O,Be3,e5,d5,c6,Qd2,cxd5,cxd5,Nbd7,Nge2,Ne8,Bh6', 'Qh4+,g3,Qxh6,Qxh6,Bxh6', 'https://lichess.org/training/0znu8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zNUA', 'Classical', 'Atraksiyon', 1612, 'barter', 1688, 'e4,g6,Bc4,Nc6,f4,d6,h3,Nf6,d3,Bg7,Nf3,O-O,O-O,Kh8,Nc3,Nh5,f5,Ng3,Ng5,Ne5,Rf3,Nxf5,exf5,Bxf5,g4,Nxg4,hxg4,Bxg4,Nxf7+,Rxf7,Bxf7,Bd4+,Kg2,e6,Bxg6,hxg6,Qh1+,Kg8,Rg3,Bf5,Bg5,Qf8,Rf1,Qg7,Ne4,d5,Nf6+,Bxf6,Bxf6,Qxf6,Qh6,Qg7,Qe3,b6', 'Rxf5,exf5,Qe6+,Kf8,Rxg6,Qxg6+,Qxg6', 'https://lichess.org/training/0zNUA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ZO5v', 'Rapid', 'lalexlast1', 1620, 'moloko7', 1709, 'e4,c5,Nf3,e6,h3,Nc6,Nc3,d6,Be2,Be7,d3,a6,a3,Nf6,Be3,O-O,O-O,b5,Re1,Bb7,Bf1,Rb8,Ne2,b4,a4,Nd7,b3,Nde5,Ng3,Nxf3+,Qxf3,Ne5,Qe2,Bf6,f4,Ng6,Nh5,Bxa1,Rxa1,f5,e5,Qc7,Qf2,dxe5,Bxc5,Rfe8,fxe5,Qxe5,d4,Qd5,Bc4,Qc6,Re1,Nh4,Nf4,Ng6,d5,exd5,Bxd5+,Qxd5,Nxd5,Bxd5,Rxe8+,Rxe8,Bxb4,Be4,g3,Rd8,g4,Ne5,gxf5,Rd1+,Be1,Nf3+,Kf1', 'Rxe1+,Qxe1,Nxe1', 'https://lichess.org/training/0ZO5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ZO7B', 'Blitz', 'blade2012', 2054, 'Qualunque', 2106, 'e4,e5,Nc3,Nf6,Bc4,Nxe4,Qh5,Nd6,Bb3,Nc6,Nb5,g6,Qf3,f5,Qd5,Qe7,Nxc7+,Kd8,Nxa8,b6,Nxb6,axb6,c3,Bb7,Qf3,Bg7,Ne2,f4,Bd5,Rf8,d3,Nf5,O-O,Nh4,Qe4,f3,Ng3,fxg2,Rd1,Kc7,Be3,Qd6,Qxh4,Qxd5,Qxh7,Bf6,Qxg6,Ne7,Qe4,Qe6,Qb4,Nf5,Qxf8,Nh4,Ne4,Nf3+,Kxg2,Qg4+,Kf1,Nxh2+,Ke1,Nf3+,Ke2,Nd4+,Kd2', 'Qe2+,Kc1,Qc2#', 'https://lichess.org/training/0ZO7B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ZojH', 'Classical', 'Turkeyisnotabird', 1672, 'ygors', 1714, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,Bd2,c6,e3,O-O,cxd5,cxd5,Bd3,Nc6,Qc2,a6,O-O,Bd6,Ng5,g6,Nf3,Nb4,Qb1,Nxd3,Qxd3,Bd7,e4,dxe4,Nxe4,Bb5,Qb1,Bxf1,Bg5,Be7,Bh6,Nxe4,Qxe4,Re8,Rxf1,Bf6,Rd1,b6,Ne5,Qd5,Qf3,Qd8,Ng4,Bh8,Ne5,Qe7,h4,Qf6,Qg3,Rac8,Bg5,Qf5,h5,f6,hxg6,fxg5,gxh7+,Kxh7,Nf3,Bf6,Kf1,Rcd8,Ke2,Kg6', 'Nh4+,Kg7,Nxf5+,exf5+,Kf1', 'https://lichess.org/training/0ZojH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ZqVE', 'Rapid', 'smog78', 1772, 'herald_of_nurgle', 1871, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,a6,O-O,b5,Be2,Nc6,d3,g6,Bg5,Bg7,Rb1,O-O,Nd5,Nxd5,exd5,Ne5,Nxe5,Bxe5,Bg4,f5,Bf3,Bd7,Re1,Re8,c3,Rc8,Qd2,a5,Bh6,b4,cxb4,cxb4,Qg5,Bf6,Qg3,e5,dxe6,Bxe6,b3,Bh4,Qf4,Rc2,g3,Bf6,Re2,Qc7,d4,Rxe2,Bxe2,Qc2,Re1,Bd7,Qd2,Qxd2,Bxd2,Bxd4,Bc4+,Kg7,Rxe8,Bxe8,Bf4,Be5,Be3,Bf7,Bb5,d5,Bd2,Kf6,Be3,d4,Bd2,Ke6,Bc4+,Ke7,Bb5,Kd6,f4,Bf6,Kf2,Kc5,Be2,Be8,Ke1,a4,Bc4,Bb5,Bg8,axb3,axb3,d3,Bxh7,Be8,h4,Bc3,Kd1,Bxd2,Kxd2,Kd4,h5,gxh5,Bxf5,Bf7,Bxd3,Bxb3,Bb1,Be6,Ke2,Kc3,Ke3,Kb2,Bg6,b3', 'f5,Bg8,f6', 'https://lichess.org/training/0ZqVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ZRbc', 'Rapid', 'Porkchop-3_99kg', 2076, 'saadhasan02', 2026, 'd4,d5,c4,dxc4,Nf3,Nf6,Nc3,e6,Bg5,Be7,e3,O-O,Bxc4,Nbd7,O-O,Nb6,Bb3,a5,a3,Bd7,Ne5,Be8,Qf3,c6,Rad1,Nbd5,Bc2,h6,Nxd5,Nxd5,Bxe7,Qxe7,e4,Nf6,Rfe1,Nh7,Nc4,f6,d5,cxd5,exd5,Ng5,Qd3,Rd8,d6,Qf7,h4,f5,hxg5,hxg5,Ne5,Qh5,Qc4,Qh6,Re3,Bh5,Rd2,Rc8,Qb3,g4,d7,Rcd8,Rd6,Rf6,Qb6,Rff8,Rxe6,Qg5,Bb3,Kh7,Qxb7,f4,Bc2+,Kg8,Rc3,g3,Rc8,f3,Rxd8', 'Qc1+,Bd1,Qxd1#', 'https://lichess.org/training/0ZRbc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zRSB', 'Blitz', 'satrio_piningit', 2196, 'FM H-Aryanejad', 2340, 'e4,d6,d4,g6,c4,Bg7,Nc3,Nc6,Be3,e5,d5,Nce7,Bd3,f5,f3,Nf6,Nge2,O-O,Qd2,f4,Bf2,a6,c5,b5,cxb6,cxb6,Na4,Rb8,O-O,b5,Nac3,g5,a4,b4,Na2,a5,Nac1,Ng6,Nb3,g4,Kh1,h5,Ng1,h4,Ba7,Ra8,Bf2,g3,Be1,gxh2,Nh3,Nh5,Kxh2,Ng3,Rg1,Rf7,Rc1,Bf8,Bb5,Rg7,Bc6,Ba6,Bb5,Nh8,Bxa6,Rxa6,Bxg3,hxg3+,Kh1,Rh7,Rgd1,Qd7,Kg1,Ra7,Rc6,Rxh3,gxh3,Qxh3,Qg2,Qh5,Rc8,Nf7,Rdc1', 'Ng5,Rxf8+,Kxf8', 'https://lichess.org/training/0zRSB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0Zs4d', 'Rapid', 'mapjap', 1833, 'Ivanlarichev', 1648, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,e5,Bb5+,c6,Bc4,exd4,Qe2,Be7,Nf3,Bg4,O-O,Nd7,Bf4,Ngf6,Nxf6+,Nxf6,Rfe1,O-O', 'Qxe7,Qxe7,Rxe7', 'https://lichess.org/training/0Zs4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ZSiw', 'Rapid', 'NEUROHONOR', 1810, 'ForVirus', 1799, 'e4,e5,Nf3,Nf6,Nc3,Bb4,d3,d5,exd5,Nxd5,Bd2,O-O,Be2,Nc6,Nxd5,Qxd5,c4,Bxd2+,Qxd2,Qd6,O-O,Bg4,Rfd1,Rad8,Qc3,Nd4,Nxd4,exd4,Qd2,Bxe2,Qxe2,Rfe8,Qf3,Qb4,Rab1,h6,a3,Qb3,Qf4,Re7,Qh4,Rde8,Qxd4', 'Qxd1+,Rxd1,Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/0ZSiw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zsJ8', 'Classical', 'BalakrishnanS', 1823, 'crimsoncircle', 1809, 'e4,d6,d4,Nf6,Nc3,g6,e5,Nfd7,exd6,cxd6,Bb5,Bg7,Nf3,Nc6,Be3,a6,Bxc6,bxc6,O-O,O-O,Na4,Qa5,b3,c5,c3,cxd4,Nxd4,Bb7,Rc1,Ne5,h3,Rac8,Bd2,Qd5,f3,Nd3,Nb6', 'Bxd4+,cxd4,Qxd4+', 'https://lichess.org/training/0zsJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0ZuNm', 'Rapid', 'Slavik-1991', 1705, 'UGgm_Manuel256', 1978, 'd4,d5,c4,e6,Nc3,Nf6,e3,Be7,Nf3,O-O,Bd3,c6,b3,b6,O-O,Bb7,Bb2,c5,Qe2,Ne4,Rad1,cxd4,Nxd4,Nc6,a3,Ne5,Bb1,Ng6,Nxe4,dxe4,Nxe6,Qxd1,Rxd1,fxe6,Qg4,Bf6,Qxe6+,Kh8,Bxf6,Rxf6,Qd7,Bc6,Qc7,h6,b4,Raf8,Rd2,Nh4,b5,Ba8,Rd8,Rxf2,Rxf8+,Rxf8,Qe7,Ng6,Qe6,Nh4,Bxe4,Bxe4,Qxe4,Nf5,g4,Nh4,Qe7,Ng6,Qxa7,Rf6,Qb8+,Kh7,Kg2,Nh4+,Kg3', 'Rf3+,Kxh4,g5+,Kh5,Rh3#', 'https://lichess.org/training/0ZuNm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zVcI', 'Rapid', 'Lechurski', 1948, 'Duende63', 1853, 'd4,d5,Nf3,Nf6,Bf4,g6,e3,c6,c3,Bg7,Bd3,O-O,Nbd2,a6,Ne5,Nbd7,Qc2,Nxe5,dxe5,Nd7,h4,Nxe5,h5,f5,hxg6,Nxg6,O-O-O,e5,Bh6,e4,Be2,Be6,Bxg7,Kxg7,c4,b5,cxd5,cxd5,Kb1,Qa5,Nb3,Qb6,Qc3+,Kg8,Rxh7', 'Kxh7,Rh1+,Kg8', 'https://lichess.org/training/0zVcI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('0zw74', 'Rapid', 'moolla', 1754, 'FlintYanni', 1714, 'd4,d5,Nf3,Nc6,Bf4,e6,Nbd2,Bd6,Bg3,Nf6,e3,O-O,Bd3,Nb4,Be2,b6,c3,Nc6,O-O,Ne7,Bxd6,Qxd6,Ne5,c5,Bf3,Nc6,Nxc6,Qxc6,Nc4,Qb5,Qc2,Qxc4', 'Be2,Qxe2,Qxe2', 'https://lichess.org/training/0zw74');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('100hs', 'Classical', 'Holze003', 1787, 'tomo1950', 1756, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,Nf6,N1c3,d6,Bc4,a6,Na3,b5,Naxb5,axb5,Bxb5,Bd7,Bg5,Be7,O-O,Nd4,Bxd7+,Qxd7,f4,O-O,fxe5,dxe5,Bxf6,Bxf6,Nd5,Bd8,c3,Nc6', 'Nf6+,Bxf6,Qxd7', 'https://lichess.org/training/100hs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('107QD', 'Blitz', 'GM Zhigalko_Sergei', 2805, 'Aequitasli', 2414, 'e4,c5,Nf3,e6,c3,Nf6,e5,Nd5,Bc4,Nb6,Bb3,d5,exd6,Bxd6,d4,cxd4,cxd4,Nc6,O-O,O-O,Nc3,Nd5,Re1,h6,Qd3,Ncb4,Qe4,Nf6,Qh4,Nfd5,Qe4,Nf6,Qe2,b6,Ne5,Bb7,Bd2,a6,a3,Nc6,Qe3,Nxe5,dxe5,Bxe5,Qxe5,Qxd2,Re2,Qg5,Qxg5,hxg5,Na4,b5,Nc5,Bd5,Bc2,Rad8,Nxa6,Bc4,Ree1,Rd2,Nb4,Be2,Rab1,Nd5,Nxd5,Rxc2,Ne3,Rd2,b3,Ra8,Ra1,f5,h3,f4,Ng4,Rc8,Ne5,Rcc2,a4,bxa4,bxa4,Ba6,Ng4,Kf7,a5,Be2,a6,Bxg4,a7,Rxf2', 'a8=Q,Rxg2+,Qxg2,Rxg2+,Kxg2', 'https://lichess.org/training/107QD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('10CSe', 'Blitz', 'Legend_Kulmanov', 2069, 'IM ENERGIE73', 2329, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,cxd6,Nc3,g6,Nf3,Bg7,Be3,O-O,Be2,Bg4,Qd2,Nc6,Bh6,Bxf3,Bxg7,Bxe2,Bxf8,Qxf8,Qxe2,Nxd4,Qd3,e5,O-O,Rc8,b3,f5,Nb5,Nxb5,cxb5,d5,a4,d4,Qf3,e4,Qf4,d3,a5,Nd5,Qe5,Rd8,Rac1,Qf6,Qxf6,Nxf6,Rc7,Nd5,Rxb7,d2,Rxa7,e3,fxe3,Nxe3,Ra1,d1=Q+', 'Rxd1,Rxd1+,Kf2,Ng4+,Ke2', 'https://lichess.org/training/10CSe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('10DLA', 'Blitz', 'Bende82', 2178, 'Ahmedzeyat2600', 2233, 'e4,d6,d3,Nf6,f4,e5,Nf3,Nbd7,Be2,Be7,O-O,O-O,c3,Re8,Na3,Bf8,Nc2,c6,fxe5,dxe5,Qe1,Qc7,Bg5,a5,Qh4,h6,Ne3,hxg5,Nxg5,g6,Ng4,Bg7,Rf2,Nxg4', 'Qh7+,Kf8,Rxf7#', 'https://lichess.org/training/10DLA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('10j01', 'Rapid', 'fbustillo', 1619, 'Tyrantrum', 1900, 'd4,d5,Bf4,e6,e3,Bb4+,c3,Bd6,Bg3,Nf6,Nf3,Nc6,Bd3,Bd7,Nbd2,O-O,Ne5,Bxe5,dxe5,Ne8,Qh5,g6,Qg4,Ng7,h4,h5,Qe2,Ne7,Bf4,c5,Bh6,Kh7,Bg5,Qe8,Nf3,Nef5,Bf6,a6,Ng5+,Kg8,g4,hxg4,Qxg4,Nh5,Be2,Bb5,Bf3,Bd3,Qg1,Nfg7,Bxg7,Nxg7,h5,gxh5,Bxh5,Qb5,Qh2,Qxb2', 'Bxf7+,Rxf7,Qh8#', 'https://lichess.org/training/10j01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('10sux', 'Classical', 'prochess-44', 2047, 'gereftar', 2276, 'd4,d5,Bf4,e6,e3,Nf6,Nf3,Bd6,Bg3,O-O,c3,c5,Bd3,Nc6,Nbd2,Re8,O-O,Bxg3,hxg3,cxd4,cxd4,e5,dxe5,Nxe5,Nxe5,Rxe5,Nf3,Re8,Rc1,Bg4,Be2,Qb6,b3,Rad8,Nd4,Bxe2,Qxe2', 'Qxd4,exd4,Rxe2', 'https://lichess.org/training/10sux');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('10UUl', 'Rapid', 'ImaFatBox', 1731, 'thunderlion', 1679, 'e4,e5,Nf3,d6,Bc4,h6,d3,Nf6,Nc3,Be7,h3,O-O,Nd5,c6,Nxf6+,Bxf6,Bd2,b5,Bb3,a5,a3,a4,Ba2,Na6,Qe2,c5,c3,Qb6,O-O,Be6,Bxe6,fxe6,Be3,Qc6,Rac1,b4,cxb4,Rfb8,d4,exd4,Bxd4,Bxd4,Nxd4,Qb7,Nxe6,cxb4,Qg4,Kf7,Qf5+,Kg8,Rfe1,bxa3,bxa3,Qb2,Rb1,Qxa3,Rxb8+,Rxb8,Qg6,Qc3,Rd1,Qe5,Rxd6', 'Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/10UUl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('10zlp', 'Rapid', 'Nyx007', 1811, 'talentfree', 1824, 'c4,c5,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,e6,Nc3,Nc6,e4,d6,d4,O-O,d5,Ne7,Ne1,a6,f4,b5,e5,Ne8,dxe6,Bxe6,Bxa8,Bxc4,Rf2,Qxa8,Nf3,d5,b3,d4,bxc4,dxc3,Be3,Qe4,Bxc5,Qxc4,Bxe7,f6,Bxf8,Kxf8,Qd4,Qxd4,Nxd4,fxe5,fxe5+,Ke7,Re1,Nc7,Ref1,Bxe5,Nc6+,Kd6,Nxe5,Kxe5,Rf7,Nd5,Rxh7,Kd4,Rd1+,Kc4,Rh4+,Kc5,Rhd4,Ne3,R1d3', 'c2,Kf2,c1=Q', 'https://lichess.org/training/10zlp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('114dQ', 'Rapid', 'dolynachess', 2339, 'LM Lance5500', 2596, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,c5,d4,d6,O-O,Nc6,dxc5,dxc5,Qxd8,Rxd8,Be3,Be6,Bxc5,Bxc4,Rfd1,Nd5,Nxd5,Rxd5,Rxd5,Bxd5,Rd1,Bxa2,Rd7,Rb8,b4,a6,Nd2,e6,Bd6,Rc8,Rxb7,Nd4,e3,Nf5,Bc5,a5,Be4,axb4,Bxb4,Bd5,Bxd5,exd5,Kg2,h5,h3,d4,exd4,Nxd4,Ba5,Ne6,Bb6,Bf6,Be3,Kg7,Ne4,Be5,f4,Rc2+,Kf3,Bc7,Nc5,Kf6,g4,hxg4+,hxg4,Rc3', 'Ne4+,Ke7,Nxc3', 'https://lichess.org/training/114dQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1160r', 'Rapid', 'nizamhoca', 1881, 'krzysiekstasilas', 1878, 'd4,d5,e3,a6,c4,Nf6,Nc3,e6,Nf3,Bb4,Qa4+,Nc6,Ne5,Bxc3+,bxc3,O-O,Nxc6,bxc6,Qxc6,Bd7,Qc5,Ne4,Qb4,Rb8,Qa3,dxc4,Bxc4,Bb5,Bxb5,axb5,O-O,Ra8,Qb2,c6,Qc2,Nd6,a4,Qa5,Ba3,Rfd8,Bb4,Qc7,a5,Nc4,a6,e5,h3,exd4,cxd4,Rd5,Bc5,Rg5,Qe4,Nd2,Qe7', 'Nf3+,Kh1,Qh2#', 'https://lichess.org/training/1160r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('117vO', 'Rapid', 'oguzakyol13', 1634, 'Strike777', 1641, 'd4,d5,Bf4,Nf6,e3,Nc6,c3,Bg4,Nf3,e6,Nbd2,Bd6,Bg3,Bxg3,hxg3,e5,dxe5,Nxe5,Qb3,Nxf3+,gxf3,Bc8,Bb5+,Bd7,Bxd7+,Qxd7,Qxb7,O-O,O-O-O,a5,e4', 'Rfb8,Qxa8,Rxa8', 'https://lichess.org/training/117vO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11AnW', 'Blitz', 'IM Prihlop', 2566, 'GM crackcubano', 2666, 'd4,Nf6,Nf3,e6,Bg5,h6,Bh4,d6,Nbd2,Be7,e4,Nbd7,Bd3,c5,c3,O-O,O-O,b6,Re1,Bb7,Qe2,Nh5,Bxe7,Qxe7,Qe3,e5,Bf1,exd4,cxd4,Rae8,Bb5,a6,Bxd7,Qxd7,Qb3,Nf4,Qxb6,Rb8,Qa5,Rfe8,dxc5,dxc5,Rad1,Qg4,g3,Rxe4,Rxe4,Bxe4,Qc7,Nh3+,Kg2,Bxf3+,Nxf3,Rxb2,Rd2,Rxd2,Nxd2,Qe2,Qd8+,Kh7,Kxh3,f5,Qd5,Qxf2,Nf3,Qf1+,Kh4,g5+,Nxg5+,hxg5+,Kxg5,c4,Qf7+,Kh8,Qe8+,Kg7,Qe7+,Kg8,Qe6+,Kf8,Kg6,f4', 'Qf7#', 'https://lichess.org/training/11AnW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11bPs', 'Classical', 'asigolu', 1639, 'olgunsmv', 1612, 'e4,e5,Bc4,f5,d3,Nf6,exf5,d5,Bb3,Bxf5,Nf3,Bd6,O-O,Nc6,Nc3,Bg4,Nxd5,Nd4,Nxd4,Bxd1,Nxf6+,Qxf6,Nb5,Bh5,g3,a6,Nxd6+,Qxd6,h4,Bg4,Re1,O-O-O,Be3,Qc6,Bg5,Bh3,Re4,Rdf8,Rae1,h6,Be3,g5,Kh2,Bd7,Rxe5,gxh4,Re4,hxg3+,fxg3,Qf6,c3,h5,Bd4,Qf5,Bxh8,Qh3+,Kg1,Qxg3+,Kh1,Qf3+,Kh2,Qh3+,Kg1,Bc6', 'Be6+,Qxe6,Rxe6', 'https://lichess.org/training/11bPs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11f6q', 'Rapid', 'bpchris', 1705, 'barbe63', 1765, 'd4,d5,Bf4,Nc6,c3,f6,Nf3,Bg4,e3,e5,Bg3,e4,h3,Bh5,Qb3,exf3,Qxb7,fxg2', 'Qxc6+,Kf7,Bxg2', 'https://lichess.org/training/11f6q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11fTZ', 'Classical', 'LeoCneto', 1625, 'aminnde', 1601, 'e4,e5,Nf3,Qf6,Nc3,c6,d4,exd4,Nxd4,Bc5,Be3,Nh6,h3,O-O,Qd2,a5,O-O-O,Bxd4,Bxd4,Qe6,b3,b5,Ne2,a4,Nf4,Qxe4,Re1,Qf5,Bd3,Qg5,Re5,Qd8,Nh5,f6,Be3,fxe5,Bxh6,gxh6,Qxh6,Qe7,bxa4,Rxa4,Re1,d6,f4,Rxa2,Kd2,Bf5,Bxf5,Rxf5,g4,Rf7,g5,d5,Nf6+,Kh8,fxe5,Qb4+,Ke3,Qxe1+,Kf4,Qf1+,Kg4,Qe2+,Kf5,Qf2+,Ke6,Qa7,g6,Qe7+,Kf5,Rxf6+,exf6,Qd7+', 'Kg5,Kg8,f7+,Qxf7,gxf7+', 'https://lichess.org/training/11fTZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11Gfy', 'Bullet', 'navidof', 1785, 'Check_Magnet', 1747, 'g3,c5,Bg2,d5,d3,Nc6,Nc3,d4,e4,dxc3,bxc3,e5,f4,Nf6,Nf3,Bd6,O-O,O-O,f5,Qa5,Bd2,Bd7,h3,Nh5,Kh2,Nf6,g4,c4,g5,Nh5,Nh4,Nf4,f6,g6,d4,exd4,cxd4,Ne2+,e5,Nxe5,Bxa5', 'Nf3+,Kh1,Ng3#', 'https://lichess.org/training/11Gfy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11GMe', 'Blitz', 'mifiscal', 2262, 'willydu75', 2275, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bb5,Qb6,Bxc6,Bxc6,O-O,h6,dxc5,Bxc5,b4,Be7,Nbd2,Qc7,Bb2,g5,h3,h5,Re1,g4,hxg4,hxg4,Nd4,O-O-O,a4,Be8,Qxg4,Kb8,Qe2,Bd7,Rac1,f6,exf6', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/11GMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11GT7', 'Blitz', 'Pharmaton', 1966, 'ahmad373', 1979, 'e4,e5,Nf3,d5,Nxe5,Qe7,d4,f6,Nd3,dxe4,Nc5,b6,Nb3,Bb7,Be2,Nd7,O-O,O-O-O,a4,g5,a5,f5,axb6,axb6,c3,f4,Ba6,Bxa6,Rxa6,f3,N3d2,fxg2,Re1,Ngf6,Qa4,Nb8,Ra7,Qd7,Qa2,Qc6,Nc4,Bd6,Bxg5,Rdf8,Bxf6,Rxf6,d5,Qc5,b4,Qxf2+,Qxf2,Bxh2+,Kxg2,Rg8+,Kxh2', 'Rh6+,Qh4,Rxh4#', 'https://lichess.org/training/11GT7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11imr', 'Blitz', 'HanzardDavidMarinR', 2004, 'Ositolindo', 1551, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,Be6,Nd5,Nf6,d3,Be7,Nxe7,Qxe7,Bb5,Bd7,Bg5,a6,Ba4,h6,Bh4,g5,Bg3,Nd4,Bxd7+,Nxd7,Nxd4,exd4,O-O,O-O,Qh5,Kg7,f4,f6,fxg5,fxg5,h4,Ne5,Rf5,Rxf5,exf5,Rf8', 'Bxe5+,Qxe5,Qg6+,Kh8,Qxh6+', 'https://lichess.org/training/11imr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11l1S', 'Rapid', 'FranRC', 1750, 'VentoVehementi', 1738, 'e4,e5,Nf3,Nc6,Nc3,Bc5,d3,h6,Qe2,Nf6,Be3,Bxe3,Qxe3,d6,O-O-O,Bg4,h3,Bxf3,gxf3,Qd7,h4,O-O-O', 'Bh3,Qxh3,Rxh3', 'https://lichess.org/training/11l1S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11LoC', 'Rapid', 'Kseniya_Stolyarova', 790, 'spacedoutmridul', 850, 'd4,e5,e3,Nc6,Nf3,exd4,exd4,Qf6,Bg5,Bb4+,Ke2,Nxd4+', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/11LoC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11mtr', 'Rapid', 'meanknight', 1710, 'DRook', 1712, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Nf6,Nc3,h6,d4,exd4,Qxd4,Be7,e5,Nh7,exd6,cxd6,Qxg7,Bf6,Qxh6,Ng5,Qxh8+,Bxh8,Bxg5,Qa5,O-O,Bb7,Rfe1+,Kf8,Be7+,Kg8,Bxd6,c5,Ne5,Qb6,Be7,Qc7,Ng4,Qc6,f3,Bd4+,Kh1,Kg7,Rad1,Qc7,Bh4,Rh8,Bf2,Bxf2,Nxf2,Rxh3+,gxh3', 'Bxf3+,Kg1,Qg3+,Kf1,Qg2#', 'https://lichess.org/training/11mtr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11NzM', 'Rapid', 'wert3', 1919, 'essy', 1910, 'e4,e6,c3,c6,d4,a6,Nf3,d5,Nbd2,b5,exd5,cxd5,Nb3,Nd7,Bf4,Bb7,Bd3,h6,O-O,Rc8,Re1,Ngf6,Ne5,Be7,Qf3,O-O,Nxd7,Qxd7,Qg3,Nh5,Qg4,Nxf4,Qxf4,Rce8,h4,Bc8,Re3,f5,Rg3,Kh7,Re1,Qd8,Nc5,Bxh4,Rh3,Bg5,Qf3,Qb6,Qh5,Kg8,Qg6,Qc6,Rf3,Rf6,Qh5,g6,Qh3,Kg7,Rg3,Bf4,Rf3,Bd6,Qh4,Bxc5,dxc5,Qxc5,Rh3,Rh8,Qf4,Qc6,Rhe3,Re8,Rh3,g5,Qe5,Kg6', 'Rxh6+,Kxh6,Qxf6+', 'https://lichess.org/training/11NzM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11RRn', 'Blitz', 'urojony', 1919, 'Cheryn', 1818, 'e4,c5,Nf3,Nc6,c3,d5,e5,Bg4,d4,cxd4,cxd4,Qb6,Nc3,e6,Bb5,Bb4,Bxc6+,bxc6,Be3,Ne7,O-O,Nf5,a3,Be7,Na4,Qb5,b4,Bxf3,gxf3,O-O,Nc5,Bxc5,bxc5,Nxe3,fxe3,f5,exf6,Rxf6,f4,Raf8,Ra2,Qb8,Rg2,Qe8,Rf3,Qh5,Qf1,Rh6,Rfg3,g6,Kh1,Rf5,Qa6,Qd1+,Rg1,Qc2,R3g2,Qe4,Qxa7,Rxh2+,Kxh2', 'Rh5+,Kg3,Qxe3+,Kg4,Qh3#', 'https://lichess.org/training/11RRn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11T53', 'Blitz', 'walli82', 2199, 'El_Metra', 2154, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Bd7,c3,Nge7,Re1,Ng6,d4,Be7,Nbd2,h6,Nf1,Bg5,Be3,Bxe3,fxe3,O-O,Ng3,Nh4,Rf1,Bg4,Bxc6,bxc6,dxe5,Bxf3,gxf3,dxe5,Qe2,Qe7,f4,exf4,Rxf4,Ng6,Rf5,Rab8,b3,Nh4,Rf4,Ng6,Nf5,Qe5,Qg4,Nxf4,exf4,Qxc3,Rf1,Kh7,e5,g6,Ng3,Rb4,Rf3,Qe1+,Kg2,Rd4,Kh3,Rfd8,Qh4,Rd3,Qf6,Rxf3,Qxf7+,Kh8,Qf6+,Kg8,Qxd8+,Kh7,Qe7+,Kg8,Qd8+,Kh7,Qxc7+,Kg8,Qb8+,Kh7,Qc7+,Kg8,Qd8+,Kh7,Qe7+,Kg8,Qe6+,Kh7,Qf7+,Kh8,Qxg6,Qf1+,Kg4', 'Rxf4+,Kh5,Qh3#', 'https://lichess.org/training/11T53');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('11ZID', 'Rapid', 'chesslike73', 2005, 'muvinokrilo', 2090, 'Nf3,d5,b3,c5,Bb2,Nc6,e3,Nf6,Be2,Bf5,c4,d4,exd4,cxd4,d3,e5,Nbd2,Bb4,O-O,O-O,a3,Bd6,Rc1,Qd7,c5,Bc7,b4,Rfe8,Nc4,Rad8,Nh4,Be6,Nd2,Bd5,Bf3,e4,Nxe4,Nxe4,dxe4,Bxe4,Bxe4,Rxe4,Qh5,Qe7,Nf3,Ne5', 'Ng5,h6,Nxe4', 'https://lichess.org/training/11ZID');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('123sr', 'Rapid', 'hasan_19', 1665, 'Oguzhanreis', 1609, 'd4,d5,c4,dxc4,e3,b5,a4,c6,axb5,cxb5,Qf3,e6,Qxa8,Qb6,Qxa7,Qxa7,Rxa7,Nc6,Ra8,Nge7,Nf3,Kd7,Nc3,b4,Nb5,Bb7,Ra1,b3,Bxc4,Nb4,Kd2,Bd5,Ne5+,Kc8,Ra8+,Kb7,Ra7+,Kb6,Kc3,Bxc4,Kxc4,Nec6,Nxc6,Nxc6,Ra8,Na5+,Kc3,Kxb5,Bd2', 'Bb4+,Kd3,Rxa8,Bxb4,Kxb4', 'https://lichess.org/training/123sr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('12bWZ', 'Rapid', 'lizzco', 1610, 'Aibar06kz', 1584, 'e4,c5,d3,d5,Be3,d4,Bf4,Nc6,c3,e5,Bg3,Nf6,Nf3,Bd6,cxd4,Nxd4,Bxe5,Bxe5,Nxe5,Qa5+,Nc3,O-O,Nc4,Qb4,a3,Qb3,Qb1,Nc2+,Kd1,Nxa1+,Kd2,Nxe4+,Nxe4,Qc2+,Qxc2,Nxc2,Kxc2,b5,Ncd6,Be6,Nxc5,a6,Be2,Bd5,Re1,Bxg2,Bg4,Rad8,Ncb7,Bxb7,Re7,Bd5,f4,Rxd6,f5,h6,h4,Rc8+,Kd2,Rdc6,h5,Rc2+,Ke3,Rxb2,Kd4,Bg2,f6,Rc3', 'Re8+,Kh7,Bf5+,g6,hxg6+', 'https://lichess.org/training/12bWZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('12HsY', 'Blitz', 'IM Meysonn', 2652, 'FM JuleVerne', 2589, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,d5,e3,O-O,Bd3,b6,O-O,c5,c3,Bb7,Qb1,Nbd7,b4,cxb4,cxb4,Rc8,h3,a6,Qb2,b5,a4,bxa4,Rxa4,Nb6,Ra5,Nc4,Bxc4,dxc4,Rc1,Ne4,Nxe4,Bxe4,Nd2,Bd3,Rc5,Rxc5,bxc5,h6,Bh4,g5,Bg3,Qd5,Qc3,f5,Be5,Bxe5,dxe5,Qxc5', 'Qxd3,cxd3,Rxc5', 'https://lichess.org/training/12HsY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('12POC', 'Rapid', 'Furosemide', 1947, 'verdeckel', 1933, 'c4,e5,g3,c6,Bg2,d5,cxd5,cxd5,Nc3,Nf6,d3,Nc6,Bg5,Be6,Nf3,h6,Bd2,Bc5,O-O,O-O,a3,Qb6,Na4,Qb5,Nxc5,Qxc5,Rc1,Qb6,b4,Rad8,Qc2,e4,Ne1,Nd4,Qd1,Bg4,f3,Nxf3+,Kh1,Nd4,Be3,Bxe2,Bxd4,Qxd4,Qxe2,Rc8,Rxc8,Rxc8,dxe4,dxe4,Rf4,Rc1,Bxe4,Qa1,Rf1,Qxa3,b5,Qb4,Bd3,Ng4,Qe8+,Qf8,Qxf8+,Kxf8,Nc2', 'Nf2+,Kg2,Nxd3,Rxc1,Nxc1', 'https://lichess.org/training/12POC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('12Uye', 'Rapid', 'CTAPUY_OXPIM', 1793, 'Sahlar057', 1640, 'd4,b6,e4,d5,e5,Bf5,Nf3,h6,Nc3,e6,Bb5+,c6,Be2,Bb4,Bd2,Be7,h3,f6,Nh4,Bh7,Bh5+,Kd7,Qg4,g5,Ng6,f5,Qf3,Bxg6,Bxg6,Kc7,Na4,a5,Qb3,Ra6,c4,h5,cxd5,exd5,Bxf5,Nh6,Bd3,b5,Nc3,Bb4,Rc1,Kb6,a4,bxa4,Nxa4+,Ka7,Bxa6,Nxa6,Bxb4,Nxb4,O-O,g4,Nc5,Qb6,Ra1,Rb8,Nd7,Qxd4,Rxa5+,Kb7,Nxb8,Kxb8,Ra4,c5,Rd1,Qxe5,Raa1,Nf5,Re1,Qd4,Rec1,g3,Rf1,h4,Qa4,Kc7,Qa7+,Kd6,Qb6+,Nc6,Rad1', 'gxf2+,Rxf2,Qxd1+', 'https://lichess.org/training/12Uye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('130Gy', 'Blitz', 'TedPawn', 1927, 'T2128506', 1994, 'e4,c5,Nf3,g6,g3,d5,exd5,Qxd5,Bg2,Bg4,O-O,Nc6,h3,Bxf3,Bxf3,Qd7,Bg2,Nf6,d3,Bg7,Nc3,O-O,Be3,b6,Qf3,Rac8,Rac1,e6,Rfe1,Ne5,Qd1,Nd5,Nxd5,exd5,c3,Qf5,d4,Nc4,Qb3,Nxe3,fxe3,c4,Qc2,Qg5,Kh2,Rfe8,e4,dxe4,Bxe4,h5,Qg2,Bh6,Rcd1,h4,g4,Qe7,Re2,Bf4+,Kh1,Qc7,Rf1,g5,Bf5,Rcd8,Rfe1,Rxe2,Rxe2,Qb8,Re4,Kg7,Qe2,Qa8,Kg1,Qb8,Kf1,Bg3,Qf3,Re8,Rxe8,Qxe8,Qe4,Qb8,Ke2,Bh2,Qf3,Qd6,Be4,Qe7,Qf5,Bg3,Qh7+,Kf6,Qf5+,Kg7', 'Qh7+,Kf6,Qh6#', 'https://lichess.org/training/130Gy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('13GDU', 'Blitz', 'rubexxxx', 1589, 'Levat0rAni', 1610, 'e4,e5,Nf3,Nc6,d3,Bb4+,Bd2,Bc5,Nc3,Nf6,Be3,Bb4,Be2,Ng4,O-O,d6,h3,Nf6,Qd2,Be6,a3,Ba5,Bg5,Qd7,Bxf6,gxf6,b4,Bb6,Na4,f5,exf5,Bxf5,Nxb6,axb6,g4,Bg6,Nh2,f5,f3,O-O-O,b5,Nd4,c3,Nb3,Qb2,Nxa1,Rxa1,fxg4,fxg4,Rhg8,a4,Rg7,a5,bxa5,Rxa5,c6', 'Ra8+,Kc7,b6#', 'https://lichess.org/training/13GDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('13How', 'Blitz', 'Volganin34', 2288, 'jab17', 2302, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,O-O,Be2,c5,O-O,d5,c3,Ne4,h3,Nc6,Nbd2,Bf5,a4,c4,Nxe4,Bxe4,Nd2,Bf5,b3,cxb3,Qxb3,b6,c4,e5,dxe5,d4,e4,Be6,Qg3,Qc7,Bg4,Bxg4,Qxg4,Nxe5,Bxe5,Qxe5,f4,Qc5,Kh1,f5,exf5,Rxf5,Ne4,Qc6,Ng3,Rf7,f5,Raf8,fxg6,hxg6,Rxf7,Rxf7,a5,d3,Rd1,bxa5,Rxd3,a4,Rd8+,Rf8,Rxf8+,Kxf8,Qf4+,Ke7,Qe3+,Kf8,Qxa7,Qxc4,Qa8+,Kf7,Qa7+,Kg8,Qa8+,Kh7,Qa7,Qc1+,Kh2,a3,Ne2,Qb2,Nf4,a2,Ne6,a1=Q,Ng5+,Kg8', 'Qf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/13How');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('13HYK', 'Blitz', 'FeelsKappablancaMan', 1969, 'leugue', 1928, 'e4,c5,Nf3,d6,d4,b6,d5,Bd7,h3,e6,c4,Nf6,Nc3,Be7,Be2,e5,Bd2,O-O,O-O,Na6,a3,Rb8,Nh4,Nc7,Nf5,a6,Qc2,b5,Rfb1,a5,b4,axb4,axb4,bxc4,Nxe7+,Qxe7,bxc5,Rxb1+,Rxb1,dxc5,Bxc4,Qd6,Be3,Ra8,f3,Ba4,Nxa4,Na6,Rb6,Qd8,Rxa6,Rxa6,Bxa6,Qa5,Nxc5,Qe1+,Kh2,Qxe3,Nd3,h6,Nxe5,Qf4+,g3,Qxe5,Qc8+,Kh7,Qf5+,Qxf5,exf5,Nxd5,f4,Ne3,Bd3,g6,fxg6+,fxg6,Kg1,Kg7,Kf2,Nd5,Kf3,Kf6,Kg4,Nc3,h4,Nd1,h5,Nf2+,Kh4', 'g5+,fxg5+,hxg5#', 'https://lichess.org/training/13HYK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('13Jy0', 'Rapid', 'HarpyEagle1', 1714, 'nonius7', 1768, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,g6,g4,Bg7,g5,Nfd7,h4,b5,a3,Bb7,f3,Qc7,Be3,Nc6,h5,O-O-O,h6,Bxd4,Bxd4,Nxd4,Qxd4,f6,f4,fxg5,fxg5,Qc5,Qd3,Ne5,Qh3+,Kb8,O-O-O,b4,axb4,Qxb4,Qe6,Bxe4,Nxe4,Qxe4,Bxa6', 'Nd3+,Kb1,Qxe6', 'https://lichess.org/training/13Jy0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('13mJG', 'Rapid', 'burzumgoth', 1689, 'IBASHUvSALAT13', 1696, 'd4,f5,c4,Nf6,Nc3,b6,Nf3,Bb7,e3,e6,Be2,Be7,O-O,O-O,h3,d6,Qc2,Ne4,Bd3,d5,Ne5,Nd7,b3,Nxe5,dxe5,d4,Bxe4,fxe4,Nxe4,Bc5,Bb2', 'd3,Nxc5,dxc2', 'https://lichess.org/training/13mJG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('13OwI', 'Rapid', 'Goran33', 1704, 'Alfil74', 1811, 'e3,e5,a3,Nf6,Nf3,Nc6,Bb5,d5,Bxc6+,bxc6,Nxe5,Qd6,f4,Nd7,Nd3,Nf6,Nc3,Bg4,Ne2,Be7,h3,Bf5,Nd4,Be4,Ne5,O-O,Ndxc6,Nd7,Qg4,Nxe5,Nxe5,Bxc2,b4,Bf6,Bb2,Rfe8,Rc1,Ba4,Qf5,g6,Nxg6,hxg6', 'Qxf6,Qxf6,Bxf6', 'https://lichess.org/training/13OwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('13pXk', 'Classical', 'kevever', 1888, 'Vikfred', 1940, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,Qc7,Bb5,e5,Nf5,a6,Bc4,b5,Nd5,Nxd5,Bxd5,Bxf5,exf5,Be7,Qf3,Rc8,Qg4,O-O', 'Bh6,Bf6,Bxg7', 'https://lichess.org/training/13pXk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('14KbH', 'Classical', 'kiril561', 2019, 'Smiling_Friend', 1862, 'd4,e6,a3,d5,Nf3,Nf6,Bg5,Be7,h3,O-O,Bf4,c5,dxc5,Nc6,c3,Bxc5,e3,a5,Nbd2,Qb6,b4,axb4,axb4,Rxa1,Qxa1,Bxb4,cxb4,Nxb4,Qb1,Ne4,Nxe4,dxe4,Qxe4,Bd7,Ne5,Ba4,Nc4,Nc2+,Ke2,Qa6,Qd3,Rc8,Nd6,Qa5,Kf3', 'Ne1+,Kg3,Nxd3', 'https://lichess.org/training/14KbH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('14nNV', 'Rapid', 'ds11mub', 2140, 'gelamar', 1996, 'e4,d6,d4,Nf6,Nc3,c6,Bc4,e6,Nf3,Qa5,e5,Ne4,O-O,Nxc3,bxc3,dxe5,Be3,Qxc3,Bb3,exd4,Bxd4,Qa5,Ne5,Nd7,Re1,Nxe5,Rxe5,Qd8,Re4,Be7,Qg4,Bf6,Rd1,Qe7,h4,O-O,Bxf6,Qxf6,Qg3,b6,h5,h6,c4,c5,Rd6,Bb7,Rf4,Qg5,Rg4,Qf6,Bc2,Rad8,Qd3,Rxd6', 'Qh7#', 'https://lichess.org/training/14nNV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('14ofE', 'Rapid', 'iprs', 1689, 'Narancsik', 1809, 'Nc3,d5,d4,Nf6,Nf3,Bf5,e3,h6,Bd3,Bd7,O-O,e6,e4,dxe4,Nxe4,Nc6,Re1,Be7,Nxf6+,Bxf6,c3,O-O,Qb3,b6,Bd2,a5,a4,Ne7,Ne5,Bc8,Ng4,Nd5,c4,Nb4,Nxf6+,Qxf6,Be4,Rb8,Qg3,Bb7,Bf4,Bxe4,Rxe4,Nc2,Be5,Qg6,Rg4,Qxg4,Qxg4,f6,Qxe6+,Kh8,Rc1,fxe5,Rxc2,Rfe8,Qd7,exd4,Rc1,Rbd8,Qxc7,d3,Rd1,d2,Kf1,Rd4,Qxb6,Rde4,Qxa5', 'Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/14ofE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('14pba', 'Classical', 'Ellpro2006', 1807, 'GutoLlywelyn', 1611, 'e4,c5,c3,g6,d4,b6,Nf3,Bg7,Be3,d6,Nbd2,Nf6,h3,O-O,Bd3,Bb7,O-O,Nc6,d5,Nb8,Rc1,Ba6,c4,Nbd7,a3,Ne8,b4,Ne5,Nxe5,Bxe5,Nf3,Bg7,Re1,Bb7,Qb3,Nf6,bxc5,dxc5,Bxc5,Bxd5,cxd5,bxc5,Rxc5,Nd7,Rc2,Rb8,Qc4,Ne5,Nxe5,Bxe5,g3,Qa5,Ree2,Qb6,Kg2,Qb3,f4,Bd6,a4,Qb7,e5,Bb4,Rb2,Rfc8,Qd4,a5,Bb5', 'Bc3,Qd1,Bxb2', 'https://lichess.org/training/14pba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('14prN', 'Rapid', 'Paeg', 1742, 'PsiaDupka', 1884, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,Bg5,Be7,Bc4,c6,O-O,b5,Bb3,h6,Bxf6,Nxf6,dxe5,dxe5,Nxe5,Bb7,Qxd8+,Bxd8,Bxf7+,Kf8,Bg6,Bc7,Nf3,Ke7,e5,Ng4,h3,Nxe5,Nxe5,Bxe5,Rfe1,Kf6,Ne4+,Kxg6,Nc5,Bxb2,Rab1,Bc3,Re3,Bd4,Rg3+,Kh7,Nxb7,a5,Nd6,Be5,Rd3,Rhd8,Rbd1,Bxd6,Rxd6,Rxd6,Rxd6,Rc8,f4,Rc7,Kf2,Kg8,h4,Kf7,g4,b4,f5,a4,Kf3,Ke7,Rg6,Kd8,g5,hxg5,hxg5,Kc8,f6,Rf7,Rxg7,Rf8,Re7,Kd8,g6', 'Rxf6+,Ke4,Kxe7', 'https://lichess.org/training/14prN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('14tSS', 'Rapid', 'Jhonatan_54', 1649, 'Amjd2018', 1816, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nf6,d4,Bg4,h3,Bh5,Bg5,c6,Be2,Be7,Ne5,Bxe2,Qxe2,O-O,Ng4,Nxg4', 'Bxe7,Qd7,Bxf8', 'https://lichess.org/training/14tSS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('14Zw9', 'Rapid', 'BORISOV-1982', 2131, 'jts_jarvis', 2096, 'e4,e5,Nc3,Nf6,f4,d5,exd5,exf4,d4,Bb4,Bb5+,c6,Qe2+,Kd7,dxc6+,bxc6,Nf3,Bxc3+', 'bxc3,Re8,Ne5+', 'https://lichess.org/training/14Zw9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('151kj', 'Rapid', 'papillon-s', 2234, 'Savian', 2180, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,g3,Bg7,Bg2,Nxc3,bxc3,O-O,Nf3,c5,O-O,Nc6,e3,Bf5,Ba3,cxd4,cxd4,Be4,Rc1,Rc8,Qb3,Qb6,Qxb6,axb6,Nd2,Bxg2,Kxg2,Ra8,Rc3,Rfd8,Rb1,e5,Nc4,exd4,exd4,Bxd4,Rf3,Ra6,Bb2,Rxa2,Bxd4,Rxd4,Nxb6,Rad2,Nc8,Rd7,Nb6,R7d4,Nc8,Kg7,Rxb7,Ne5,Re3,Nd3,Rf3', 'Ne1+,Kf1,Nxf3', 'https://lichess.org/training/151kj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1545l', 'Blitz', 'LachinAghasiyev8', 1510, 'GuaraniOnABadIP', 1523, 'e4,d6,d4,Nf6,Nc3,c6,Nf3,b5,h3,b4,Ne2,Nxe4,Qd3,Nf6,Bg5,a5,Nf4,h6,Bh4,g5,Bg3,gxf4,Bxf4,Ba6,Qf5,Bxf1,Rxf1,Qd7,Qd3,Nd5,Bg3,Qe6+,Kd2,Bg7,Rfe1,Qc8,Bxd6,Qa6,Rxe7+,Nxe7,Qe4,Qb7,Re1,Bf6,g4,O-O,h4,Qd7,g5,Qxd6,gxf6,Ng6,Rg1,Nd7,h5,Nxf6,Qd3,Nxh5,Nh4,Nf4,Qe4,Qf6,Nxg6,Nxg6,f4,Rae8,Qf3,Kh7,f5,Ne7,Rh1,Qxd4+,Kc1,Qf6,Qf4,Qxf5', 'Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/1545l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('157BB', 'Blitz', 'martincheckmate', 1725, 'ThrowingBricks', 1732, 'e4,Nc6,Nf3,f5,exf5,d5,Bb5,Bxf5,Nc3,Nf6,O-O,e6,Re1,Bd6,Bxc6+,bxc6,Nd4,O-O,Nxc6,Qd7,Nd4,Bg6,Nxe6,Rfe8,Nd4,Rxe1+,Qxe1,Re8,Qd1,Bh5,f3,c5,Nde2,Qc7,h3,Bxf3,gxf3,Bh2+,Kg2,Nh5,Nxd5', 'Rxe2+,Qxe2,Qg3+,Kf1,Qg1#', 'https://lichess.org/training/157BB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('158d4', 'Rapid', 'Mate73', 1883, 'Metrorey', 1965, 'Nf3,Nf6,d3,d5,Bf4,e6,Nbd2,c5,e4,Nc6,exd5,Nxd5,Bg3,Bd6,Ne4,Be7,Be2,O-O,c3,f5,Ned2,f4,c4,Ndb4,a3,Nxd3+,Bxd3,Qxd3,Bh4,Nd4,Bxe7,Re8,Bxc5', 'Nc2+,Qxc2,Qxc2', 'https://lichess.org/training/158d4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('158Vu', 'Blitz', 'giovaniemerson', 1796, 'Mario_Barrios', 1738, 'e4,e5,f4,d5,exd5,e4,Nc3,Nf6,Qe2,Bc5,Nxe4,O-O,Nxc5,Re8,Ne6,Bxe6,Kd1,Bxd5,Qd3,Ne4,Nh3,Nc6,b3,Nc5,Qf5,b6,Bb2,Be6,Qg5,Qxg5,Nxg5,Bg4+,Nf3,Rad8,h3,Ne4,Rg1,Bxf3+,gxf3', 'Nf2+,Kc1,Re1#', 'https://lichess.org/training/158Vu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('15agt', 'Rapid', 'tnhnkzc1', 1702, 'Your_Grandfather', 1681, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,d6,d3,Nf6,Ng5,O-O,Be3,h6,Nxf7,Rxf7,Bxf7+,Kxf7,Qb3+,Be6,Qc2,Qg8,O-O,Qh7,f4,exf4,Bxf4,Qg6,Kh1,Ne5,Bxe5,dxe5,d4,Ke8,Nd2,Bc4,Qa4+,b5,Qc2,Bxf1,Rxf1,Bd6,Qb3,Rb8,dxe5,Bxe5,Qe6+,Kf8,Qxe5,Re8,Qxc7,Kg8,Qxa7,Nxe4,Nxe4,Rxe4,Qa8+,Kh7,Qc8,Re2,Qh3,Rf2,Kg1,Rxb2,Qf5', 'Rxg2+,Kh1,Rg1+,Rxg1,Qxf5', 'https://lichess.org/training/15agt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('15bDn', 'Rapid', 'wizard_gambit', 1609, 'simmich5', 1673, 'd4,d5,c4,dxc4,e3,Be6,Qa4+,Qd7,Qxd7+,Nxd7,Nc3,Nb6,Nf3,Nf6,e4,Rd8,e5,Nfd5,Nxd5,Bxd5,Be2,e6,O-O,Be7,Nd2,c5,dxc5,Bxc5,Rd1,O-O,g3,Na4,Bf3,c3,bxc3,Nxc3,Re1,Bxf3,Nxf3,b6,Bb2,Na4,Rab1,Nxb2,Rxb2,g6,h4,h5,Kg2,Rd5,Kh3,Rfd8,g4,hxg4+,Kxg4,Rd3,Ng5,R8d4+,Ne4,f5+,exf6,Kf7,Kg5,Rd5+,Kf4,Bd4,Rbe2,Bxf6,Nxf6,Kxf6,Rxe6+,Kf7,Re7+,Kg8,Re8+,Kh7', 'R1e7+,Kh6,Rh8#', 'https://lichess.org/training/15bDn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('15dNJ', 'Rapid', 'neznaikoigrae', 2259, 'fedorzvolinskii', 1968, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,c6,Bf4,Bd6,Bxd6,Qxd6,Nf3,O-O,Be2,Re8,O-O,Bf5,c5,Qc7,Ne5,Nbd7,f4,b6,b4,a5,a3,axb4,axb4,Ne4,Nxe4,Bxe4,cxb6,Nxb6,Rc1,Re6,b5,Nc4,bxc6,Nxe5,fxe5,Rxc6,Rxc6,Qxc6,Qb3,h6,Bh5,Rf8,Qb2,g6,Bg4,h5,Be2,Rc8,Bf3,Bxf3,Rxf3,Qc1+,Qxc1,Rxc1+,Rf1,Rc2,Rd1,Kf8,h4,Ke7,Kh2,Ke6,Rd3,Kf5,Rf3+,Ke4,Rxf7,Kxd4,e6,Re2,e7,Kd3,Kg3,d4,Kf3,Kd2,g4,hxg4+,Kxg4,d3', 'Rf2,Rxf2,e8=Q', 'https://lichess.org/training/15dNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('15en3', 'Classical', 'JayGabriel', 1728, 'jeanksilva', 1721, 'e4,e5,Bc4,Nf6,Nc3,Nc6,Nf3,Bb4,b3,Bxc3,dxc3,d6,O-O,O-O,Bg5,h6,Bxf6,Qxf6,Re1,Bg4,Re3,Qg6,h3,Bxh3', 'Nh4,Qg5,Rxh3', 'https://lichess.org/training/15en3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('15KqH', 'Bullet', 'apktntajd', 1571, 'pasever', 1556, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Ne7,Nc3,a6,Bg5,Nbc6,Nxc6,bxc6,Qf3,Qb6,b3,Ng6,g3,Ne5,Qe3,Bc5,Qe2,O-O,O-O-O,Bxf2,Na4,Qb4,Qxf2,d5,Nb6,Rb8,Nxc8,Rfxc8,Bf4,Nd7,Bxb8,Rxb8,Qa7,Nc5,exd5,Ne4,dxc6', 'Qa3+,Kb1,Nc3+,Ka1,Qxa2#', 'https://lichess.org/training/15KqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('15lLl', 'Blitz', 'Zerst', 1553, 'j4funchess', 1541, 'c4,c5,Nc3,d6,g3,Nf6,Bg2,g6,e4,Bg7,Nge2,Nc6,O-O,Bg4,d3,Nd4,f3,Be6,Nxd4,cxd4,Ne2,Qb6,Qb3,O-O,Qxb6,axb6,Nxd4,Bd7,f4,Nh5,Nb5,Bg4,f5,Be2,Rf2,Bxd3,fxg6,hxg6,g4,Nf6,Bg5,Nxg4,Rd2,Bxc4,Nc7,Ra4,Bxe7,Rc8,Nd5,Bxd5,Rxd5,Bxb2,Rb1,Be5,Bxd6,Bxd6,Rxd6,Ne3,Bh1,Rxa2,Rdxb6,Kg7,Rxb7,Rc3,e5,Ng4,e6,Nf2,e7', 'Nh3+,Kf1,Rf2+,Ke1,Re3+', 'https://lichess.org/training/15lLl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('15p3z', 'Rapid', 'pedrono', 2044, 'scherenaxt', 2039, 'g3,h5,Nf3,Nc6,d4,d5,Bg2,Bg4,c4,e6,cxd5,exd5,Nc3,Nf6,Be3,Bb4,h3,Bxf3,exf3,Qe7,O-O,O-O-O,Qa4,Kb8,a3,Ba5,b4,Bb6,Qb3,Nxd4,Qb2,Rhg8,a4,a6,b5,a5,Rad1,Qb4,Qxb4,axb4,Bxd4,Bxd4,Rxd4,bxc3,Rc1,Rge8,Bf1,g5,Rxc3,Re1,Kg2,Ra1,Rcd3,Ra2,Rd2,Ra3,Bd3,Re8,Bf5,Re1,f4,Raa1,fxg5,Ne4,Bxe4,dxe4,f4,Rg1+,Kf2,Raf1+,Ke2', 'Re1+,Kf2,e3+', 'https://lichess.org/training/15p3z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('15r19', 'Blitz', 'Kaosparov2', 1941, 'ZackAttack614', 1959, 'd4,c5,e3,d5,Nf3,Bf5,Bd3,Bg6,c3,Nc6,Qe2,Nf6,Nbd2,Qc7,h4,c4,Bxg6,hxg6,Ng5,e5,O-O,O-O-O,a4,Bd6,b4,cxb3,Nxb3,e4,a5,a6,Nc5,Bh2+,Kh1,Rxh4,Nh3,Rdh8,Rb1,Rxh3,gxh3,Rxh3,Rxb7', 'Bg1+,Kxg1,Qh2#', 'https://lichess.org/training/15r19');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('15Tiu', 'Rapid', 'Yuktha', 1963, 'BogomilTodorov', 2105, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Ng3,h5,d4,h4,Ne2,Bd6,dxe5,Bxe5,Nxe5+,Nxe5,Qd4,Re8,O-O,h3,Ng3,Bg4,Re1', 'Nf3+,gxf3,Rxe1+', 'https://lichess.org/training/15Tiu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('15TKL', 'Rapid', 'MagnisCharlestin', 1696, 'Legoister', 1650, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Nf6,e5,Nd5,Bd2,Nxc3,bxc3,Be7,O-O,O-O,Re1,h6,Be4,Bxe4,Rxe4,d5,Rg4,Kh8,Be3,Nd7,Qd2,g5,Nxg5,Bxg5,Bxg5,hxg5,Rxg5,Rg8', 'Rh5+,Kg7,Qh6#', 'https://lichess.org/training/15TKL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('15wZg', 'Rapid', 'Zio_Pork', 1718, 'MTNARI', 1691, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,g6,Bc4,Bg7,Nc3,d5,exd5,exd5,Nxd5,Ne7,Nxe7,Qxe7+,Be3', 'Qb4+,c3,Qxc4', 'https://lichess.org/training/15wZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16cLS', 'Rapid', 'ItCouldBeWorse', 1886, 'cocotoune', 1716, 'd4,e6,c4,d6,e4,Nd7,Be3,Ngf6,Bd3,Qe7,Nc3,h6,Nge2,Ng4,O-O,e5,Nd5,Qd8,Bd2,c6,Ne3,Nxe3,Bxe3,Be7,f4,Bf6,Qb3,exd4,Bxd4,Bxd4+,Nxd4,c5,Nf5,O-O,Nxd6,Nb6,e5,Qe7,Rae1,Rb8,f5,Qh4,Re4,Qg5,h4,Qd2,Re2,Qa5,Bb1,Qb4,Qd3,Bd7,e6,fxe6,f6,Rxf6,Qh7+,Kf8,Rxf6+,Ke7,Ne4,Kd8,Qxg7,Qxc4,Rf8+,Kc7,Qe5+,Kc6,Nc3,Rxf8,Be4+,Nd5,Bf3,Kb6,Qd6+,Bc6,Bxd5,exd5,Qxf8,d4,Qd8+,Ka6,Ne4,Qxe2,Nxc5+,Kb5,Qxd4', 'Qxg2#', 'https://lichess.org/training/16cLS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16DO1', 'Rapid', 'juliocanto', 1977, 'CHESS_TIME_MEXICO', 2114, 'd4,d5,e3,Nf6,Bd3,e6,f4,c5,c3,Nc6,Nf3,Be7,O-O,Ne4,Nbd2,f5,Ne5,O-O,Qe2,cxd4,exd4,Bd7,Nxd7,Qxd7,Nf3,Rf6,Bd2,Raf8,Rae1,Qe8,Bb5,a6,Ba4,Qh5,Bc1,b5,Bd1,Rh6,a3,Bh4,g3,Bxg3,hxg3', 'Qh1#', 'https://lichess.org/training/16DO1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16ex9', 'Blitz', 'heysakul123', 1588, 'Dardox', 1620, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,b5,Bg5,Bb7,Qd3,f6,Bh4,Qd7,O-O-O,e5,Nf5,Nc6,g4,Nge7,Qf3,Nxf5,gxf5,Nd4,Qh5+,Ke7,Bg3,Rc8,f4,Kd8,fxe5,dxe5,Bf2,Bc5,Nd5,Bxd5,exd5,Qxd5,Bxd4,Bxd4,Kb1,Qc5,c3,b4,cxd4', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/16ex9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16FZt', 'Classical', 'lebonsaint', 1664, 'Yousef13970901', 1716, 'Nf3,d5,e3,Nc6,c4,dxc4,Bxc4,e5,Nc3,f5,d3,Nf6,Qc2,Bb4,Ng5,Qe7,O-O,h6,Nf3,Na5,Bb5+,c6,Ba4,b5,Bb3,Be6,Nxe5', 'Bxb3,axb3,Qxe5', 'https://lichess.org/training/16FZt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16G4G', 'Blitz', 'Despelote01', 1732, 'e100a790', 1710, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,e6,d4,cxd4,Nxd4,e5,Nf5,Bxf5,exf5,Nf6,c3,Be7,Qb3,O-O,Nd2,Qd7,Qc2,d5,Bb3,e4,a3,Qxf5,Ba2,Bd6,Bb1,Qe5,f4,Qh5,b4,Ng4,h3,Ne3,Qb3,Nxf1,Nxf1,Qf5,Ng3,Qf6,Qc2,Bxf4,Nh5,Qh4,Nxf4,Qe1+,Kh2,Ne5,Ba2,Qh4,Nxd5', 'Ng4+,Kg1,Qe1#', 'https://lichess.org/training/16G4G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16Ioh', 'Rapid', 'Roman_Lukashek', 1823, 'wodzu23', 1723, 'd4,d5,c4,e6,Nf3,Bb4+,Bd2,Qd6,a3,Bxd2+,Nbxd2,Nf6,e3,Nc6,c5,Qe7,b4,b6,Bd3,bxc5,bxc5,O-O,e4,a5,e5,Nd7,O-O,Ba6,Bxa6,Rxa6,h4,f6,exf6,Rxf6,Re1,Rf4,Ng5,e5,dxe5,Ndxe5,Qh5,g6,Qh6,Qd7,f3,Qg7', 'Qxg7+,Kxg7,Ne6+', 'https://lichess.org/training/16Ioh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16l24', 'Rapid', 'Schachschwabe', 1768, 'halisbasar49', 1814, 'e4,e6,Nf3,d6,d4,c6,c4,d5,cxd5,cxd5,exd5,exd5,Bb5+,Nc6,O-O,Be6,Re1,Qc7,Ng5,Qd7,Qg4,O-O-O,Nxe6,fxe6,Qxe6', 'Qxe6,Rxe6,Nxd4', 'https://lichess.org/training/16l24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16mBT', 'Rapid', 'denn_23', 1532, 'NickDolshenko', 1582, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Nge7,O-O,Nf5,Na3,cxd4,Nxd4,Ncxd4,cxd4,Nxd4,Be3,Qxb2,Bxd4,Qxa3,Bb5+,Bd7,Bxd7+,Kxd7,Rc1,Rc8', 'Rxc8,Kxc8,Qc2+,Kb8,Rc1,Qxc1+,Qxc1', 'https://lichess.org/training/16mBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16q0l', 'Classical', 'balalaika999', 1839, 'HNeanderthalensis', 1838, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,cxd4,d6,Nc3,Be7,Bd3,O-O,O-O,Bg4,e5,dxe5,dxe5,Nd5,Nxd5,Bxf3,Nxe7+,Qxe7,Qxf3,Nxe5,Qe3,Qe6,Bc2,Rfe8,Bd2,Qc6,Be4,Qb5,Qh3,Ng6,Bf5,Qxb2,Bc3,Qa3,Rfc1,Re2,Qg4,Rxa2,Rxa2,Qxa2,h4,Qa3,Rc2,f6,Bxg6,hxg6,Qxg6,Rd8,Bxf6,Rd1+,Kh2,Qd6+,g3,Qxf6,Qe8+,Kh7', 'Qh5+,Kg8,Qxd1', 'https://lichess.org/training/16q0l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16SL1', 'Rapid', 'ayylmao1337', 1739, 'slava_', 1616, 'd4,Nf6,Nf3,e6,c4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Nc3,b6,e4,Bb7,Bd3,c5,dxc5,bxc5,Ng5,h6,Nf3,Na6,e5,Bxf3,gxf3,Ne8,f4,Nb4,Be4,Rb8,O-O-O,Rb6,a3,Nc6,Bxc6,Rxc6,Qxd7,Qb6,Rd2,Nc7,Rg1,Rb8,Qe7,Ne8,Nb5,a6,Rd7,Rc7,Rxg7+,Kxg7', 'Qxf7+,Kh8,Qh7#', 'https://lichess.org/training/16SL1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16tif', 'Rapid', 'lurtrester', 2018, 'mayta', 1896, 'e4,c5,Nf3,d6,h3,a6,Bc4,e6,a4,Qc7,Nc3,Nf6,d3,Nc6,O-O,b6,Bf4,Bb7,Qd2,Rd8,Ng5,Qd7,Qe3,Nd4,Rac1,Be7,e5,dxe5,Bxe5,O-O,Nce4,Nxe4,Nxe4,Bxe4,Qxe4,b5,axb5,axb5,Ba2,Qa7,Bb1,Qa8,Qg4,g6,c3,Nc6,Bf4,f5,Qg3,Bf6,Rfe1,Rfe8,Be3,Qa7,d4,Be7,b4,cxd4,cxd4,Nxd4,Rc7,Qb6,Qe5,Qd6', 'Bxd4,Qxe5,Bxe5', 'https://lichess.org/training/16tif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16TZl', 'Blitz', 'juna_poernomo', 1925, 'kanies', 1866, 'e4,c5,f4,Nc6,Nf3,d6,Bb5,Nf6,d3,Qb6,Ba4,Bd7,c3,e6,Bc2,Be7,O-O,e5,fxe5,Nxe5,Nxe5,dxe5,Be3,Qxb2,Nd2,Qxc3,Nc4,O-O,Bb3,b5,Na3,Qa5,Nc2,c4,dxc4,bxc4,Bxc4,Rfc8,Bb3,Nxe4,Qf3,Ng5', 'Bxg5,Bxg5,Qxf7+,Kh8,Qxd7', 'https://lichess.org/training/16TZl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16xMW', 'Rapid', 'ralphie_magpie', 1660, 'SJMistery', 1669, 'b3,e5,Bb2,f6,e4,Bc5,d4,exd4', 'Qh5+,g6,Qxc5', 'https://lichess.org/training/16xMW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('16XQs', 'Classical', 'mohammed967', 2133, 'ali_mohammed8', 1767, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,f3,Bf5,Nb5,Qc5,d4,Qc6,Nc3,e6,Bb5,Bb4,Bxc6+,Nxc6,Bd2,Nxd4,Ne4,Be7,Bc3,e5,Bxd4,exd4,Qxd4,Nf6,Nxf6+,gxf6,O-O-O,Rg8,Re1,Be6,g4,a5,h3,h6,f4,Kf8,a3,c5,Qd2,f5,gxf5,Bxf5,Nf3,Rd8,Qxa5,Rg2,Rd1,Re8,Rd2,Rg3,Ne5,Be4,Qa4,Bxh1,Qc4,Rg7,Nd7+,Kg8,Qf1,Bh4,Re2', 'Rxe2,Qxe2,Rg1+,Kd2,Rg2', 'https://lichess.org/training/16XQs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('177VE', 'Classical', 'LeeChessLondonUk', 1676, 'Kurosu_Hibiki', 1727, 'd4,d5,c4,Bf5,e3,e6,Nc3,Bb4,a4,Nf6,c5,Ne4,Bd2,Qf6', 'Nxe4,Bxe4,Bxb4', 'https://lichess.org/training/177VE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('178rA', 'Rapid', 'Qutni', 1902, 'gojekdriver', 1880, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,c6,Bc4,g6,O-O,Bg7,g3,O-O,Bf4,Qb4,Bb3,Bg4,a3,Qb6,Qd3,Rd8,Na4,Qb5,c4,Qh5,Ne5,Be2,Qc3,Bxf1,Rxf1,Ne4,Qe3,Nf6,c5,e6,Re1,Nbd7,Nxf7,Ng4,Bxe6', 'Qxh2+,Kf1,Nxe3+', 'https://lichess.org/training/178rA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('17aAK', 'Blitz', 'riserman', 2392, 'NM GMcanty', 2555, 'e4,c5,Nf3,d6,Nc3,Nf6,Bb5+,Bd7,a4,a6,Bxd7+,Qxd7,O-O,e5,d3,g6,Bg5,Bg7,Bxf6,Bxf6,Nd5,Bd8,a5,O-O,Nd2,Nc6,Nc4,Rb8,Ncb6,Bxb6', 'Nf6+,Kg7,Nxd7', 'https://lichess.org/training/17aAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('17aUZ', 'Rapid', 'Massi74', 1726, 'MisterBob', 1763, 'd4,d5,c4,e6,Nf3,Nf6,g3,c6,Qc2,dxc4,Qxc4,Nbd7,Bg2,Nb6,Qc2,Bd7,O-O,Rc8,Nc3,c5,dxc5,Bxc5,Ne5,Nbd5,Qb3,Qb6,Qxb6,Bxb6,Nxd5,exd5,Rd1,Be6,Bg5,Rc2,Rd2,Rxd2,Bxd2,O-O,Rc1,Ne4,Bxe4,dxe4,a3,Rd8,Bf4,h6,h4,Kf8,Nc4,Bd4,b4,b5,Ne5,Bb2,Rc7,Ra8,Nc6,a6,Ne5,Bxa3,Bd2,a5,bxa5,b4,Rb7,Rxa5', 'Rb8+,Ke7,Nc6+', 'https://lichess.org/training/17aUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('17lSz', 'Rapid', 'and-hy', 1793, 'andrekotur', 1811, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nd7,Bd3,Bxd3,Qxd3,e6,O-O,Bd6,Ne4,Ngf6,Nxd6+,Ke7,Ne4,Nxh5,c3,Re8,Nh2,Kf8,Ng4,f5,Nxh6,gxh6,Bxh6+,Kf7,Qf3,Nhf6,Nd6+,Ke7,Nxe8,Qxe8,Bg5,Qg8,Bxf6+,Nxf6,Rfe1,Ne4,g3,Nd2,Qh5,Rf8,Re2,Ne4,Rae1,Qg7,Qh4+,Kd7,Re3,Rh8,Qf4,Qh7,Qh4,Qg7,Qf4,Qh7,Kf1,Qh5,Qf3', 'Nd2+,Ke2,Nxf3', 'https://lichess.org/training/17lSz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('17nQx', 'Rapid', 'chessbrucelee', 1890, 'freyler', 1770, 'e4,c6,f4,d5,e5,Bf5,d3,e6,h4,h5,Be2,Be7,Bxh5,Bxh4+,Kf1,Qb6,Qe2,Be7', 'Bxf7+,Kxf7,Rxh8', 'https://lichess.org/training/17nQx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('17qTz', 'Rapid', 'hedgehog19', 1894, 'kolyandra_1969', 1850, 'c4,c5,Nf3,Nc6,e3,e6,a3,Nf6,Qc2,d5,Be2,d4,exd4,cxd4,d3,Bd6,b4,a6,O-O,Qb6,c5,Qc7,cxd6,Qxd6,Nbd2,e5,Re1,O-O,Bf1,Bg4,Bb2,Rac8,Qa4,Ne7,Nxe5,Bh5,Qb3,Nf5,Nec4,Qc7,Rac1,Ng4,g3,Qc6,Bg2,Qh6,Ne4,Nxh2,Kxh2', 'Bd1+,Bh3,Bxb3', 'https://lichess.org/training/17qTz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('17uG3', 'Classical', 'Sdhenge2000', 1874, 'Mosaoudi', 1865, 'f4,e6,Nf3,Be7,e4,Bh4+,g3,Be7,Bg2,d5,e5,c5,c3,Nc6,O-O,Nh6,d4,cxd4,cxd4,Nf5,Nc3,Bb4,a3,Bxc3,bxc3,O-O,g4,Nh4,Nxh4,Qxh4,h3,Qg3,Rf3,Qh4,Be3,Na5,Bf2,Qh6,f5,Nc4,f6,Bd7,h4,Qd2,g5,g6,Be1,Qxd1,Rxd1,Ba4,Rb1,b6,Rh3,Bc2,Rc1,Bf5,Rh2,Nxa3,h5,Nc4,hxg6,Bxg6,Bf3,Ne3,Bh5,Bf5,Bd2,Nc4,Bf4,a5,Kf2,a4,Rch1,Be4,Bf3,Bg6,Bh5,Be4,Bf3,Bf5,g6,Bxg6,Bh6,Rfc8,Bh5,a3,Bxg6,fxg6,Bg7,a2,Rxh7,a1=Q,f7+,Kxf7,Bf6+,Ke8', 'Re7+,Kf8,Rh8#', 'https://lichess.org/training/17uG3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('17wc2', 'Blitz', 'Clairol', 1760, 'drvchss', 1802, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,dxc4,e4,b5,e5,Nd5,Bg5,Bg4,Be2,h6,Bh4,g5,Bg3,e6,h3,Bxf3,Bxf3,Bb4,Qc2,Qa5,Bxd5,cxd5,O-O,Nd7,a3,Bxc3,bxc3,O-O-O,a4,b4,cxb4,Qxb4,Rfb1,Qa5,Rb5,Qa6,Rab1,Nb6,a5,Nd7,Qb2,Rhe8,Rb8+,Nxb8', 'Qxb8+,Kd7,Rb7+,Kc6,Qc7#', 'https://lichess.org/training/17wc2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('17WUQ', 'Rapid', 'Remus_Cernea', 2075, 'EZZELDEEN', 1887, 'd4,d5,c4,dxc4,e4,e5,d5,b5,Nf3,Bd6,Nc3,a6,Be2,Nf6,Bg5,h6,Bh4,O-O,O-O,g5,Bg3,Qe7,Qd2,Kg7,Nxg5,hxg5,Qxg5+,Kh8,Bh4,Nbd7,f4,Rg8', 'Qh6+,Nh7,Bxe7', 'https://lichess.org/training/17WUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('17YWF', 'Rapid', 'CHESSBRAHTechFour', 1614, 'oyen', 1702, 'Nf3,d5,d4,c6,Nc3,Nf6,Bg5,h6,Bxf6,exf6,e3,Bd6,Bd3,O-O,O-O,Na6,a3,Nc7,b4,a6,h3,Ne6,Ne2,g6,c3,Kg7,g4,Bc7,Kg2,Qd6,Qd2,Ng5,Rh1,Nxf3,Kxf3,Be6,Kg2,Qd7,f4,f5,gxf5,Bxf5,Bxf5,Qxf5,Ng3,Qe6,h4,Qg4,Kf2,Bd8,h5,g5,Rag1,f6,Qd3,f5,Nxf5+', 'Qxf5,Qxf5,Rxf5', 'https://lichess.org/training/17YWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('17ZZ8', 'Blitz', 'robertsmolly26', 2222, 'CookieCoo', 2218, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,dxc4,a4,Bb4,e4,Qa5,Bxf6,Bxc3+,bxc3,Qxc3+,Nd2,gxf6,Bxc4,Qxd4,O-O,O-O,Rc1,e5,Re1,Rd8,Nf3,Qxd1,Rexd1,Rxd1+,Rxd1,Nd7,a5,Kf8,Nh4,Ke8,Nf5,b5,axb6,Nxb6,Nd6+,Ke7,Bxf7,Be6,Bxe6,Kxe6,Nf5,Nc4,Rc1,Rb8,g4,Rb4,Kg2,a5,Ng7+,Kf7,Nf5,a4', 'Rxc4,Rxc4,Nd6+,Ke7,Nxc4', 'https://lichess.org/training/17ZZ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('183gi', 'Classical', 'Legogote', 1781, 'adamliyou', 1835, 'd4,d5,c4,e6,Nf3,Nf6,Bf4,b6,e3,Bd6,Bxd6,Qxd6,cxd5,Nxd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,O-O,Nc3,Nxc3,bxc3,h6,c4,f5,Ne5,c5,dxc5', 'Qxd1,Rfxd1,Nxe5', 'https://lichess.org/training/183gi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('186cx', 'Blitz', 'WolfAtTheDoor', 2338, 'CanliSatranc', 2249, 'd4,Nf6,c4,a6,Nc3,c5,dxc5,e6,b4,a5,Bf4,axb4,Nb5,Na6,Nd6+,Bxd6,Bxd6,Ne4,f3,Nxd6,cxd6,Qh4+,g3,Qxc4,Rc1,Qxa2,e4,O-O,Bc4,Qa5,Ne2,b5,Bb3,Qb6,Qd4,Rb8,e5,f6,f4,fxe5,fxe5,Qb7,Kd2,Qg2,Rcg1,Qh3,Nf4,Rxf4,Qxf4,Bb7,Rf1,Bxh1', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/186cx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('187KH', 'Rapid', 'bozidar56', 1879, 'Lidsm', 1957, 'e4,e5,d4,exd4,Nf3,c5,Bc4,h6,Ne5,d5,Bxd5,Qf6,Bxf7+,Ke7,f4,Nd7,Bxg8,Nxe5,O-O,Rxg8,fxe5,Qxe5,Bf4,Qe6,Qh5,Bd7,Qxc5+,Ke8,Qh5+,Ke7,Nd2,g6,Qh4+,g5,Bxg5+,hxg5,Qh7+,Kd6,e5+,Kc6,Qe4+,Qd5', 'Rf6+,Kc7,Qxd5', 'https://lichess.org/training/187KH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('18b7y', 'Rapid', 'mascarpov', 1612, 'Whiskys', 1625, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Bb5,O-O,Bxc6,bxc6,Bg5,h6,Bh4,g5,Nxg5,Nxe4,Nxe4,Qxh4,Nbc3,Ba6,Re1,d5,Ng3,Bxd4,Qh5,Qf4,Nce2,Bxf2+,Kh1,Qd6,Qg4+,Kh7', 'Qf5+,Qg6,Qxf2', 'https://lichess.org/training/18b7y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('18dcY', 'Classical', 'VulcanForge', 1874, 'pionnenvreter', 2008, 'e4,c5,f4,Nc6,Nf3,e6,c3,Nge7,d4,cxd4,cxd4,d5,e5,g6,Nc3,a6,Be3,Bg7,g4,f6,a3,fxe5,Nxe5,Nxe5,fxe5,O-O,Bd3,Nc6,Ne2,Qb6,Qd2,Na5,Qc3,Bd7,b4,Nc6,Qc5,Qxc5,bxc5,Na5,Rb1,Rab8,Rb6,Nc6,Bg5,h6,Be3,Rf3,Kd2,g5,Bxa6', 'bxa6,Rxb8+,Nxb8', 'https://lichess.org/training/18dcY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('18eoz', 'Blitz', 'zarathoustran', 1802, 'darko-montenegro', 1808, 'e4,e5,d3,d6,Nf3,c5,Be2,Be7,Nc3,h6,Nd5,Be6,c4,Nc6,O-O,Nf6,Be3,Bxd5,cxd5,Nd4,Bxd4,exd4,e5,Nxd5,e6,fxe6,Nd2,O-O,Nc4,b5,Nd2,a5,Ne4,Nf6,Nxf6+,Bxf6,f4,e5,fxe5,dxe5,Bf3,Rb8,Be4,Bg5,Qh5,Rxf1+,Rxf1,Rb6', 'Qf7+,Kh8,Qf8+,Qxf8,Rxf8#', 'https://lichess.org/training/18eoz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('18gGo', 'Classical', 'ameys25', 2063, 'GreenRise', 2130, 'd4,d5,c4,Nf6,Nc3,dxc4,e3,e6,Bxc4,Bb4,a3,Ba5,b4,Bb6,Nf3,O-O,O-O,Nc6,Qb3,Bd7,a4,a5,b5,Ne7,Ba3,Re8,Rfd1,c6,Rab1,Nfd5,bxc6,bxc6,Nxd5,exd5,Qxb6,Qxb6,Rxb6,dxc4,Rb7,Rad8,Ne5,Bf5,Bxe7,Rxe7,Rxe7,c3,Rb7,c5,g4,Be4,Rd7,Rb8,dxc5,g6,f3,c2,fxe4', 'Rb1,Rf1,Rxf1+,Kxf1,c1=Q+', 'https://lichess.org/training/18gGo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('18hC9', 'Rapid', 'DavidJan', 1622, 'JesusCountry2', 1815, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,c6,a3,d5,e3,Be7,Nf3,O-O,Bd3,h6,Bh4,g5,Bg3,f4,Ne5,fxg3,hxg3,Kg7,Ng4,Nxg4,Qxg4,e5', 'Qh5,Rh8,Qg6+', 'https://lichess.org/training/18hC9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('18KfJ', 'Blitz', 'erwinsyah77', 2110, 'asta_astaria26', 2147, 'e4,d5,exd5,Qxd5,Nf3,Nf6,d4,Bg4,Be2,e6,c4,Qh5,O-O,Bd6,h3,Bxh3,gxh3,Qxh3,Re1,Ng4,Bf1', 'Bh2+,Kh1,Nxf2#', 'https://lichess.org/training/18KfJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('18NK3', 'Blitz', 'KAAMAA', 1745, 'Ramzi-becheikh', 1767, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,e5,Ndb5,a6,Na3,b5,Nd5,Nf6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Nxb5,axb5,Bxb5,Bd7,Qd5,O-O,Bxc6,Bxc6,Qxc6,Rac8,Qb5,Rxc2,O-O,h6,a4,Rc5,Qd3,Rfc8,b4,Rc4,b5,Rd4,Qe3,Rcc4,a5,Rxe4,Qb6,Rg4,a6,Rxg2+,Kxg2', 'Rg4+,Kh1,Qf3#', 'https://lichess.org/training/18NK3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('18Rn1', 'Blitz', 'Pauljohn02', 1674, 'aksoyozgur', 1684, 'e4,c5,d4,e6,Nf3,d5,e5,cxd4,Nxd4,Bc5,Be3,a6,Nc3,Ne7,Nxe6,fxe6,Bxc5,Nbc6,f4,O-O,g3,b6,Bf2,Nf5,Qd2,d4,Ne4,Qd5,Bg2,Qb5,O-O-O,Qa4,Kb1,Bb7,Ng5,Rfe8,Qd3', 'Nb4,Qb3,Qxb3,axb3,Bxg2', 'https://lichess.org/training/18Rn1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('18YCB', 'Blitz', 'FaizalBidor', 1874, 'jorgesebasti', 1878, 'd4,d5,c4,e6,e3,Nf6,Nc3,Be7,cxd5,Nxd5,Nf3,O-O,Bd3,b6,O-O,Bb7,e4,Nxc3,bxc3,Nd7,e5,c5,a4,a5,Be3,cxd4,cxd4,Rc8,Rc1,f6,Qb3,Bd5,Qb1,f5,Rxc8,Qxc8,Bg5,Bxg5,Nxg5,Qb7,f3,h6,Nh3,Rc8,Nf4,Nf8,Qb5,Bc6,Qb3,Qd7,Bxf5,Qxd4+,Kh1,Qxf4', 'Bxe6+,Nxe6,Qxe6+,Kh7,Qxc8', 'https://lichess.org/training/18YCB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('18zTn', 'Rapid', 'carlr01', 1849, 'emi999', 1927, 'Nf3,Nc6,e4,e5,Bc4,Bc5,O-O,d6,c3,Bg4,h3,Bh5,g4,Bg6,Re1,Qd7,d4,exd4,cxd4,Bb6,Bb5,a6,Ba4,Qe7,d5,h5,dxc6,Kd8,cxb7,Rb8,Bc6,hxg4,Ng5,gxh3,Nxh3,Rxh3,Qg4,Rh4,Qg5,Nh6', 'Qxe7+,Kxe7,Bg5+,f6,Bxh4', 'https://lichess.org/training/18zTn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('194fN', 'Rapid', 'Pioneczkowy', 2237, 'fettbemme', 2289, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,c5,Qg4,Bxg5,hxg5,cxd4,Qxd4,Nc6,Qf4,Ndxe5,O-O-O,Ng6,Qg3,Bd7,Nb5,Nce5,f4,Bxb5,Bxb5+,Nc6,Nf3,a6,f5,exf5,Rhe1+,Kf8,Bc4,Nge7,Kb1,Qa5,Bb3,Rd8,Ne5,Qb4,Qe3,f4,Qe2,Nd4,Qh5,Ng6,Nxg6+,fxg6,Qg4,Nxb3,axb3,d4,Qxf4+,Kg8,Qe4,Qf8,Qxb7,h5,Re7,Kh7,Re6,Rg8,Qb6,Qf7,Qxa6,Rge8,Rde1,Rxe6,Qxe6,Qxe6,Rxe6,Rd5,c4,Rxg5,Rd6,Rxg2,Rxd4,g5,c5,h4,c6,h3,c7,h2,c8=Q,h1=Q+,Ka2,Rg1', 'Qf5+,Kh6,Rd6+', 'https://lichess.org/training/194fN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('198eP', 'Rapid', 'ajaxnijmegen', 1713, 'herrahuh', 1609, 'e4,c6,f4,d5,e5,c5,Nf3,Bg4,Be2,e6,d4,Nc6,c3,Nge7,Be3,cxd4,cxd4,Nf5,Bf2,Bb4+,Nc3,O-O,O-O,Bxf3,Bxf3,a6,a3,Be7,Qd2,b5,b4,Rc8,Rac1,Rc7,Ne2,Na7,Rxc7,Qxc7,Rc1,Qd7,g4,Nh6,h3,Rc8,Rxc8+,Nxc8,Qc3,Nb6,Nc1,Nc4,Be2,f6,Nd3,fxe5,Nxe5,Nxe5,fxe5,Nf7,Kg2,Nd8,Bd1,Nc6,Bc2,Na7,Qd3,g6,Qc3,Nc8,Bd3,Nb6,Bc2,Nc4,Bd3,Bf8,Kg3,Qf7,Bxc4,dxc4,Qf3,Bh6,Be3,Qxf3+,Kxf3,Kg7', 'g5,Bxg5,Bxg5', 'https://lichess.org/training/198eP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('19alB', 'Blitz', 'DJe257', 2054, 'm1340kazemi', 1897, 'f3,d5,e4,dxe4,fxe4,Nc6,Nf3,e5,Bc4,Be7,d3,Nf6,Nc3,O-O,Bg5,Bg4,Qd2,Bxf3,gxf3,Nd4,Qg2,Kh8,O-O-O,c6,Rhg1,Rg8,Bxf7,Qd6,h4,Raf8,Bb3,b5,Rdf1,a5,f4,a4,Bxg8,Rxg8,fxe5,Qxe5,Bf4,Qc5,e5,Nh5,Bh2,a3,Ne4,axb2+,Kb1,Qa3,Nd6,Bxd6,exd6,b4,Be5,Nb5,Qxg7+,Nxg7', 'Bxg7+,Rxg7,Rf8+,Rg8,Rgxg8#', 'https://lichess.org/training/19alB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('19gp2', 'Rapid', 'Argentina-chess115', 1798, 'tacitgreen', 1920, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,b6,c3,Bb7,Bd3,Bd6,Bg3,Bxg3,hxg3,Nbd7,Nbd2,h6,Ne5,Qe7,Qe2,c5,Ba6,Nxe5,dxe5,Ne4,Qb5+,Kf8,Nxe4,dxe4,Rd1,Bxa6,Qxa6,g6,Ke2,Kg7,Qa4,Rhd8,Qxe4,Rac8,Qf4,Qg5,Qf6+,Qxf6,exf6+,Kxf6,Rxh6,Rxd1,Kxd1,Rd8+,Ke2,e5,f4,e4,g4,Kg7,g5,f5,Rh2,c4,b4,cxb3,axb3,Rd5,Rh1,Ra5,c4', 'Ra2+,Ke1,Ra1+,Kd2,Rxh1', 'https://lichess.org/training/19gp2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('19keZ', 'Blitz', 'ashleesh21', 2226, 'onlinechesssucks', 2162, 'd4,Nf6,Nf3,d5,Nc3,Bf5,Bf4,e6,e3,Bb4,Bd3,Bg6,O-O,c5,dxc5,Bxc3,bxc3,Qa5,c4,Qxc5,cxd5,Nxd5,Bg3,Nc6,Nd4,O-O,Nxc6,Qxc6,Bxg6,hxg6,Rb1,Rac8,Qd3,a5,c4,Nb4,Qa3,b6,Rfc1,Rfd8,c5,Rd2,cxb6,Qd7,Qxa5', 'Rxc1+,Rxc1,Rd1+,Rxd1,Qxd1#', 'https://lichess.org/training/19keZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('19ktg', 'Classical', 'runagrog', 1688, 'Magistone', 1618, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Nc3,d6,O-O,Bd7,h3,b5,Bb3,Be6,Nd5,a5,d3,a4,Nxf6+,Qxf6,Bg5,Qg6,Bxe6,Qxe6,Be3,Be7,Qd2,a3,b3,d5,exd5,Qxd5,Qc3', 'Bb4,Qxc6+,Qxc6', 'https://lichess.org/training/19ktg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('19NTU', 'Rapid', 'armintheking', 1926, 'dorhinj1', 1854, 'e4,e5,Nf3,Nc6,Bb5,f5,Nc3,fxe4,Nxe4,d5,Nxe5,dxe4,Qh5+,g6,Nxg6,Nf6,Qe5+,Be7,Nxh8,Bd7,Bxc6,Bxc6,Qe6,Qd5,Qxd5,Bxd5,O-O,O-O-O,Re1,Rxh8,d3,Bd6,Bg5,Ng4,h3,Ne5,dxe4,Bc6,f4,Nc4,b3,Bc5+,Kh2,Ne3,Re2,Bxe4,Rae1,Bxg2,Rxe3,Bxe3,Kxg2,Bc5,f5', 'Rg8,h4,h6', 'https://lichess.org/training/19NTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('19pWS', 'Blitz', 'vladimirbershanskiy', 1754, 'jlruiz', 1758, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf4,Nc3,Ng6,Nf3,Bd7,Bd3,e6,e5,Bb4,Bg5,Be7,Bd2,O-O,h4,Re8,h5,Nf8,h6,g6,Qc2,c5,dxc5,Bxc5,Nh4,Qb6,Ne4,Rc8,Nf6+,Kh8,Nxg6+,Nxg6,Nxd7,Bxf2+,Ke2,Nxd7,Qb3,Qd4,Bxg6,fxg6,Bc3,Qe3+,Kf1,Qf4,Qxe6,Bb6+,Ke2,Qe3+,Kd1,Rd8,Kc2,Nc5', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/19pWS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('19sKH', 'Rapid', 'mehran1367777', 1810, 'VViner', 1888, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,h6,Bd3,Bxd3,Qxd3,e6,c3,Bd6,O-O,Nd7,Be3,Ngf6,Rad1,Nd5,Bc1,Qc7,c4,Nf4,Bxf4,Bxf4,d5,exd5,Rfe1+,Kf8,cxd5,Ne5,d6', 'Nxd3,dxc7,Nxe1', 'https://lichess.org/training/19sKH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('19uXJ', 'Classical', 'krew88', 1865, 'renecool', 1907, 'c4,e5,Nc3,Nf6,b3,Nc6,Bb2,d6,g3,Be7,Bg2,O-O,Nf3,Ng4,O-O,f5,e3,Be6,Ne2,Bf6,d4,exd4,exd4,Bd7,Nf4,Rb8,Nd5,b5,Nxf6+,Nxf6,c5,Ne4,d5,Ne5,Nxe5,dxe5,c6,Be8,Bxe5,Bg6,Qd4,Rf7,Qxa7,Nd6,Qd4,b4,a3,bxa3,Bxd6,Qxd6,Rfe1,Rff8,Re6,Qd8,Rxa3,f4,b4,fxg3,Rxg3,Rf5,Be4,Rf4,Rexg6,hxg6,Rxg6,Qe8,Re6,Qf7,Qe3,Rf8,Bg6', 'Rg4+,Kf1,Rxg6,Rxg6,Qxg6', 'https://lichess.org/training/19uXJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('19z1i', 'Rapid', 'D23036eg-k', 1656, 'kreyons', 1677, 'd4,Nf6,Bf4,g6,e3,Bg7,c3,d6,Bd3,Nbd7,Qc2,O-O,Nd2,Re8,Ne2,e5,Bg3,Nh5,O-O-O,Ndf6,f3,Nd5,Bf2,Nhf6,g4,e4,fxe4,Nb6,h4,Nxg4,Rdf1,Bh6,Nf4,Nxf2,Rxf2,c6,Rg2,d5,e5,Nc4,Nh5,Nxe3,Qb3,Nxg2,Nf6+,Kg7,Nxe8+,Qxe8,h5,Nf4,Qc2,Nxh5,Kb1,Nf4,Nf3,Bf5,Bxf5,gxf5,Rg1+,Kh8,Qxf5,Ne2,Rg2,Nf4', 'Qf6+,Bg7,Qxg7#', 'https://lichess.org/training/19z1i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('19ziy', 'Rapid', 'Elxan123', 1834, 'Manned_wolf', 1834, 'd4,e6,c4,d5,Nc3,Bb4,cxd5,exd5,a3,Ba5,g3,Nf6,Bg2,Be6,Bg5,c6,e3,O-O,Ne2,Nbd7,O-O,h6,Bxf6,Nxf6,b4,Bb6,Rc1,Rc8,Na4,a6,Nf4,Ba7,Nc5,Bxc5,Rxc5,Qd6,Qc2,Rc7,Rc1,Rfc8,Nxe6,fxe6,Bh3,Ne4,Ra5,Ra8,f3,b6,Ra4,Nf6,Qg6,Raa7,Kg2,e5,dxe5,Qxe5,Qd3,a5,bxa5,b5,Rf4,Rxa5,e4,Qb2+,Rc2,Rxa3,Qd2,Qe5,Rf5,Qd6', 'e5,Qe7,exf6', 'https://lichess.org/training/19ziy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1a0vv', 'Rapid', 'Glenin', 1732, 'LordGian2', 1771, 'Nf3,Nc6,g3,d5,Bg2,e5,d3,Be6,Nbd2,Qd7,O-O,O-O-O,c3,h5,b4,h4,Nxh4,Bh3,e4,dxe4,dxe4,Be7,Qf3,Bxh4,gxh4,Rxh4,Nc4,Bxg2,Kxg2,g5,Bxg5', 'Rg4+,Kh1,Rxg5', 'https://lichess.org/training/1a0vv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1a76s', 'Rapid', 'CuteTeenyCold', 1803, 'Jeevanandham', 1736, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d3,Bb4,Be3,O-O,a3,Ba5,b4,Bb6,Qd2,Bd4,Bb5,a6,Bxc6,dxc6,O-O,Bg4,Nh4,Nxe4,dxe4,Bxe3,Qxd8,Bxf2+,Rxf2,Rfxd8,h3,Bh5,g4,Bg6,Nf5,a5,Rff1,axb4,axb4,Rxa1,Rxa1,Rd2,Rc1,h5,Ne7+,Kh7,Nxg6,fxg6,gxh5,gxh5,Kf1,Rh2,b5', 'Rh1+,Ke2,Rxc1', 'https://lichess.org/training/1a76s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1A8ae', 'Rapid', 'Mooya_choolwe', 1802, 'Yousrymohamed3661', 1879, 'Nf3,f5,d4,Nf6,Bf4,d5,e3,c5,c3,c4,Be2,a5,b3,b5,a4,Bd7,axb5,Bxb5,b4,a4,Na3,Qb6,Qc2,e6,Ne5,Bd6,O-O,O-O,h3,Nbd7,Nxd7,Bxd7,Bxd6,Qxd6,f3,e5,Rae1,e4,f4,Be8,Qa2,Nh5,Kh2,Qh6,g4,fxg4,Bxg4,Nf6,Qe2,Ra6,Rg1,Qh4,Qg2,h5', 'Be6+,Kh7,Qxg7#', 'https://lichess.org/training/1A8ae');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1a8Yx', 'Rapid', 'marcelomoiteaux', 1872, 'Sergey_dom1', 1920, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,Be2,Nc6,Bd2,O-O-O,Ne4,Qd5,Nxf6,exf6,Bc3,Bb4,O-O,Rhe8,Re1,Bxf3,Bxf3,Bxc3,Bxd5,Rxe1+,Qxe1,Bxe1,Bxc6,bxc6,Rxe1,Rxd4,h3,Rd2,Rc1,Kd7,Kf1,Kd6,Ke1,Rd5,Rd1,Ke5,g3,h5,Ke2,Ke4,f3+,Ke5,c3,g5,Rd3,f5,Ke3,f4+,gxf4+,gxf4+,Ke2,h4,b3,Ke6,Rd4,Rg5,Rxf4,Rg2+,Ke3,Rxa2,Rxh4,Ra3,Rc4,Rxb3,Rxc6+,Kd7,Rc4,c6,Kd4,Rb5,Rc5,Rb1,h4,Ra1,h5,a5,Ke5,a4,Kf6,a3,h6,a2,Ra5,Rh1,Rxa2,Rxh6+,Kxf7,Rh3,Rf2,Kd6,Kg6,Kd5,f4,Rxc3,f5,Ra3,f6,Ra8', 'f7,Rf8,Kg7', 'https://lichess.org/training/1a8Yx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1A9Bd', 'Rapid', 'a23med', 1798, 'kokokook', 1872, 'e4,e6,Nf3,d5,Nc3,d4,Nb5,c5,a4,a6,Na3,Nf6,d3,Bd6,Be2,O-O,Nc4,Nc6,Bg5,h6,Bh4,Be7,O-O,Na5,Nfd2,Nxc4,Nxc4,Nd7,Bg3,Nb6,Nd2,Bf6,f4,Nd7,e5,Bh4,Bxh4,Qxh4,Nc4,b6,Nd6,Nb8,Bf3,Ra7,Be4,Bd7,g3,Qe7,Qf3,Rc7,Qe2,Nc6,Rf2,Nb4,Raf1,Bc6,Bxc6,Rxc6,f5,exf5,Nxf5,Qb7,Qg4,Rg6,Qh4,f6,exf6,Rfxf6,Re2,Qd7,Ne7+,Kh7,Nxg6,Rxg6,Qe4,Nd5,Ref2,Ne3,Rf7,Qh3,R1f6,Qh5,Rxg6', 'Qd1+,Kf2,Qf1#', 'https://lichess.org/training/1A9Bd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1AAxP', 'Blitz', 'FM mostmodest', 2405, 'tiny12345', 2317, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Bd7,Bd3,Bc6,Nf3,Nd7,Qe2,Ngf6,Nxf6+,Qxf6,Be3,Bxf3,gxf3,Bd6,O-O-O,O-O-O,c4,Kb8,c5,Bf4,c6,bxc6,Kb1,Nb6,Rc1,Rd6,Rc5,Na4,Ra5,Nb6,Be4,Nd5,Qa6,Rhd8,Rc1,Bxe3,fxe3,e5,Qxa7+,Kc8,Bxd5,Rxd5,Qa8+,Kd7,Rxd5+,cxd5,Qxd5+,Qd6,Qxe5,Qxe5,dxe5,Re8,f4,f6,exf6,gxf6,Rc3,f5,a4,Re6,a5,Rh6,Rc2,Kc8,b4,Kb7,Kb2,Rh3,Re2,Rh6,Kb3,Rc6,Rc2,Re6,Rc3,Rh6,Rc5,Rxh2,Rxf5,Re2,Re5,h5,Kc4,h4,Kd3,Re1,Rh5,Rb1,b5,Ra1,a6+,Kb6,Rxh4,Kxb5,Rh6,c6,f5,Rxa6,f6,Ra8,f7,Rf8,Rf6,Kc5,Ke4,Kc4,Ke5,Kd3,e4,c5,Kf5,c4,Rd6+,Ke3,e5,Rxf7+,Ke6,Rh7,Rc6', 'Rh6+,Kd7,Rxc6,Kxc6,c3,e6,c2,Kd7,c1=Q', 'https://lichess.org/training/1AAxP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1abWu', 'Rapid', 'KHOFU', 1907, 'carterchete', 1844, 'd4,d5,g3,f5,Bg2,e6,Nf3,c6,O-O,Bd6,Ne5,Nf6,e3,O-O,Nd2,Nbd7,Ndf3,Ne4,Nxd7,Bxd7,Ne5,Bxe5,dxe5,Qb6,f3,Ng5,h4,Nf7,Kh1,Nxe5,f4,Ng4,b3,Nxe3,Qh5,Nxf1,Bxf1,Qf2,Bb2,Qxg3,Be2,Qg6,Rg1,Qxh5,Rxg7+,Kh8,Rg5+,e5', 'Bxe5+,Rf6,Bxf6#', 'https://lichess.org/training/1abWu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ABXr', 'Rapid', 'Nastya_Martin123', 1515, 'Editelfs', 1537, 'd4,Nf6,e3,d5,Bb5+,c6,Bd3,g6,c4,Bg7,Nf3,O-O,O-O,Nfd7,Re1,Nb6,cxd5,Nxd5,Nc3,Nxc3,bxc3,Qd5,c4,Qh5,Bd2,Bg4,Be2,Nd7,Qb3,b6,h3,Be6,Ne5,Qf5,Nxc6,Qf6,d5,Bf5,Bf3,Nc5,Qc3', 'Qxc3,Nxe7+,Kh8,Bxc3,Bxc3', 'https://lichess.org/training/1ABXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ADDC', 'Rapid', 'Umnik2', 1678, 'let4ik', 1790, 'e4,e5,Bc4,Nc6,Nh3,Nf6,Nc3,Bc5,d3,d5,exd5,Bxh3,gxh3,Nd4,Bg5,h6,Be3,Qd7,Bxd4,Bxd4,Bb5', 'Bxc3+,bxc3,Qxb5', 'https://lichess.org/training/1ADDC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1AeDu', 'Rapid', 'mohammad_NA_iran', 1751, 'szachy222', 1716, 'd4,c6,e3,d5,Nf3,Bg4,Nbd2,Nd7,c4,e6,Qb3,b6,cxd5,exd5,Qc2,Ngf6,Qxc6,Rc8,Qb5,Rc7,Ne5,Qc8,Nxg4', 'Rxc1+,Rxc1,Qxc1+,Ke2,Nxg4', 'https://lichess.org/training/1AeDu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1AfMd', 'Rapid', 'miraj1', 1687, 'MarcoDomani', 1627, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be3,O-O,Bd3,Bg4,h3,Bd7,O-O,a6,e5,dxe5,Nxe5,Be6,Nf3,c6,Ne2,Nd5,c4,Nxe3,fxe3,Nd7,b3,Nf6,Rb1,Qc7,e4,Rad8,e5,Nd7,Bc2,f6,Kh1,fxe5,Ng5,Bf7,Bxg6,Bxg6,Ne6,Rxf1+,Qxf1,Qd6,Nxd8,Bxb1', 'Qf7+,Kh8,Qe8+,Nf8,Nf7+,Kg8,Nxd6', 'https://lichess.org/training/1AfMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1agSC', 'Rapid', 'Andrey33', 1736, 'Mikhail_M', 1634, 'c4,c5,e3,Nf6,Nf3,e6,b3,d5,cxd5,exd5,Bb2,Nc6,d3,Be7,Be2,O-O,O-O,Bg4,Qc2,Rc8,Nbd2,Bd6,Rad1,Qc7,a3,Bxh2+,Nxh2,Bxe2,Qxc5,Bxd1,Rxd1,Ne5', 'Qxc7,Rxc7,Bxe5', 'https://lichess.org/training/1agSC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ajPB', 'Bullet', 'mikaelthal', 1769, 'enchuk', 1706, 'e4,e6,d4,b6,c4,Bb7,Nc3,g6,Bd3,Bg7,Be3,Ne7,Nge2,d6,O-O,Nd7,Qd2,O-O,Bh6,f5,Bxg7,Kxg7,f3,fxe4,fxe4,c5,Rxf8,Qxf8,Rf1,Qc8,d5,exd5,exd5,Ne5,b3,a6,Qg5,Qd7,Qf6+,Kg8,Nf4,Rf8,Qxf8+,Kxf8', 'Ne6+,Kg8,Rf8#', 'https://lichess.org/training/1ajPB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1AKEK', 'Blitz', 'ydragon', 2182, 'Dango8888', 2296, 'd4,c6,Nf3,d5,c4,Nf6,Nc3,Bf5,Bf4,e6,e3,Bd6,Bxd6,Qxd6,Nh4,Bg6,Be2,Nbd7,c5,Qc7,a4,e5,b4,exd4,exd4,O-O,Nxg6,hxg6,O-O,Rae8,Bd3,Ne4,Nxe4,dxe4,Bc4,Nf6,Qb3,Qd7,Rfd1,Nd5,b5,f5,Ra3,f4,a5,g5,a6,Rf5,axb7,Qxb7,bxc6,Qxc6,Rxa7,e3,f3,Kh8,Qd3,Rf6,Bb5,e2,Re1,Nb4,Qc4,Qe6,Qxb4,Qe3+,Kh1,Qf2,Bxe8', 'Qf1+,Rxf1,exf1=Q#', 'https://lichess.org/training/1AKEK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1AKfI', 'Blitz', 'Jorgepablo2', 1611, 'blancdauphin', 1919, 'd4,c6,Nf3,d5,Bf4,Nf6,e3,g6,c4,Bg7,Be2,O-O,O-O,Bg4,h3,Bxf3,Bxf3,e6,c5,Nbd7,Nd2,Ne8,Bd6,Nxd6,cxd6,Nf6,e4,dxe4,Nxe4,Nxe4,Bxe4,Qxd6,Qb3,b6,Rad1,Rad8,Bf3,Bxd4,a3,c5,Qa4,Qe7,Qb5,e5,Rfe1,f5,Be2,Qh4,Rf1,f4,Qa6,Rf7,Bc4,Kg7,Bxf7,Kxf7,Qxa7+,Kg8,Qxb6,Qg5,Qe6+,Kg7,Qg4,Qe7,Qf3,g5,Qg4,h6,h4,Kh7,Qf5+,Kg7,hxg5,hxg5,Qg4,Kg6,g3,fxg3,Qxg3,Rh8,Kg2', 'Qb7+,Qf3,Rh2+,Kxh2,Qxf3', 'https://lichess.org/training/1AKfI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ANV9', 'Rapid', 'A__Buendia', 1630, 'pacha2011', 1605, 'd4,d5,Bf4,c6,c4,e6,e3,Nf6,Nc3,Bd6,Bg3,Bxg3,hxg3,O-O,Nf3,h6,Bd3,Nbd7,e4,dxc4,Bxc4,Re8,e5,Nd5,Nd2,f5,Qh5,N7b6,Bd3,Qe7,g4', 'Nf4,Qh2,Nxd3+', 'https://lichess.org/training/1ANV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1APTu', 'Rapid', 'milchvo', 1735, 'Sysmetic', 1735, 'e4,e6,d4,d5,exd5,exd5,h3,c5,Nf3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,Be7,dxc5,Nxc5,Be3,O-O,Nbd2,Qb6,Nb3,Qc7,Nh2,Bd6,f4,Nce4,c3,g5,Ng4,gxf4,Nxf6+,Nxf6,Bd4,Be5,Qf3,Bxd4+,Nxd4,Kh8,Qxf4,Qxf4,Rxf4,Ne4,Rd1,Rg8,Nf5,Ng5,Rxd5', 'Nxh3+,Kf1,Nxf4', 'https://lichess.org/training/1APTu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1AqAv', 'Rapid', 'Natttty', 1724, 'Schmiedekolben', 1749, 'd4,d5,Bf4,Nf6,Nc3,Nc6,e3,Bg4,f3,Bf5,g4,Bg6,h4,h6,h5,Bh7,Qd2,e6,O-O-O,Bb4,a3,Bd6,g5,hxg5,Bxg5,e5,Nxd5,Be7,Nxe7,Qxe7,dxe5,Qxe5,f4,Qe6,Kb1,O-O,Bg2,Rad8,Qe2,Rxd1+,Qxd1,Qxe3,h6,Nd4,Ka2,Qe6+,b3', 'Bxc2,Qxc2,Nxc2', 'https://lichess.org/training/1AqAv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1aqox', 'Blitz', 'JanisZakis', 1685, 'singulart', 1664, 'e4,c6,d4,d5,f3,Nf6,e5,Nfd7,Bd3,c5,c3,c4,Bc2,Nb6,a4,a5,f4,Nc6,h3,g6,g4,Bg7,Nf3,f6,O-O,Bd7,Kg2,Qc8,Re1,Bxg4,hxg4,Qxg4+,Kf2,fxe5,Nxe5,Qxd1,Rxd1,Nxe5,fxe5,O-O+,Kg3,Rf7,Bg5,e6,Nd2,Raf8,Rf1,Rxf1,Rxf1,Rxf1,Nxf1,Nd7,Ne3,h6,Be7,Kf7,Bd8,b6,Ng4,Ke8,Bc7,Kf7,Kf4,g5+,Kf3,h5,Ne3,g4+,Kg3,Bh6,Nd1,Bg5,Bh7,Bc1,Kh4,Kg7,Bc2,Kh6,Bd8,Bd2,Be7', 'Be1+,Nf2,Bxf2#', 'https://lichess.org/training/1aqox');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1AqSA', 'Bullet', 'Pinfinite', 1681, 'marceloj', 1785, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Nbd2,Ngxe5,Be2,d6,a3,a5,Rb1,Bf5,e4,Bg6,Nxe5,dxe5,O-O,Nd4,Bd3,O-O,b4,axb4,axb4,Be7,Bb2,c5,b5,b6,Nf3,Bd6,Nxd4,exd4,Re1,Qc7,h3,Rfe8,Bc1,Bf4,Qf3,Bxc1,Rbxc1,Ra3,Ra1,Rea8,Rxa3,Rxa3,e5,Rxd3', 'Qa8+,Qb8,Qxb8#', 'https://lichess.org/training/1AqSA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1AWaT', 'Rapid', 'slick10', 1614, 'Ripplemark', 1612, 'e4,c5,Nf3,e5,Nxe5,Qf6,Nf3,Bd6,Nc3,Nc6,Bb5,Nge7,Bxc6,Nxc6,d4,Nxd4,Nxd4,cxd4,Nd5,Qe5,Qd3,O-O,f4,Qh5,Qxd4,Re8,e5,Bxe5,fxe5,Rxe5+,Be3,Rxd5,Qe4,Re5,Qd3,b6,O-O,Bb7,Bf4,Qg6', 'Qxg6,hxg6,Bxe5', 'https://lichess.org/training/1AWaT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1AWCG', 'Rapid', 'MJB1991', 1866, 'bulbul26', 1937, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Nc6,b3,Nb4,a3', 'Qe4+,Be2,Nxc2+', 'https://lichess.org/training/1AWCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1aXvq', 'Classical', 'twidom', 1695, 'ecfiii', 1666, 'e4,e5,f4,Qh4+,g3,Qe7,d4,exf4,Bxf4,Qxe4+,Qe2,Qxe2+,Nxe2,Nc6,Bxc7,d6,d5,Ne5,Ba5,Nc4,Bc3,Nf6,Nd2,Ne3,Nd4,Nfxd5,Nc4,Bf5,Nxe3,Nxe3,Bb5+,Bd7,Bd3,Nd5,Bd2,Be7,O-O-O,O-O,Rde1,Bc6,Re2,Nb4,Nxc6,Nxc6,Rhe1,Rfe8,Bb5,Rac8', 'Bxc6,bxc6,Rxe7,Rxe7,Rxe7', 'https://lichess.org/training/1aXvq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1AZOY', 'Rapid', 'lukoll', 1902, 'kyrgyz_ru', 1867, 'e4,b6,Nf3,Bb7,e5,e6,d4,d6,exd6,Bxd6,c4,c5,dxc5,Bxc5,Qxd8+,Kxd8,Nc3,Nf6,Ne5,Ke7,Bg5,h6,Bh4,g5,Bg3,Rd8,Be2,Na6,O-O,Nb4,a3,Nc2,Rac1,Nd4,Bd3,h5,h3,h4,Bh2,Nh5,Be4,Bxe4,Nxe4,Ne2+,Kh1,Nxc1,Rxc1,Bxf2,Nxf2,Rd2,Ne4,Re2,Nxg5,Ng3+,Bxg3,hxg3,Nc6+,Kf6,Nf3,Rxb2,Nce5,Rd8,Ng4+,Kg7,Ng5,Rc2,Rf1,Rdd2,h4,Rxg2,Rxf7+,Kg6', 'Ne5+,Kh6,Rh7#', 'https://lichess.org/training/1AZOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1b0Bl', 'Blitz', 'Geraldsean', 2144, 'NM SicilianTM', 2101, 'd4,Nf6,e3,g6,Bd3,Bg7,f4,d6,Nf3,O-O,Nbd2,c6,O-O,e5,fxe5,Ng4,Nc4,dxe5,Nfxe5,Nxe5,Nxe5,Bxe5,dxe5,Qe7,e4,Qxe5,Bh6,Rd8,Qf3,Be6,b3,Nd7,a4,Nc5,Rad1,Rd7,Bf4,Qg7,Be3,Nxd3,Rxd3,Rxd3,cxd3,Bxb3,a5,a6,Bg5,Qd4+,Kh1,Bc2,Bf6,Qxd3,Qf4,Qa3,Ba1,Qe7,Bf6,Qf8,h4,Re8,e5,h5,Rf3,Bf5,Rg3,Kh7,Rg5,Qh6,Qb4,Rb8,Qe7,Be6,Qc7,Qf8,Kh2,Qc8,Qb6,Qd7,Qf2,Rg8,Qc2,Rh8', 'Rxh5+,Kg8,Rxh8#', 'https://lichess.org/training/1b0Bl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1b2zN', 'Rapid', 'jhonwickchess', 1851, 'ALAKTORN', 1848, 'e3,e5,Bc4,e4,Qh5,g6', 'Qe5+,Qe7,Qxh8', 'https://lichess.org/training/1b2zN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1B6Uz', 'Rapid', 'Lavinesh-14', 1606, 'sreddy_15', 1649, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,d6,Ng5,Be6,d3,d5,exd5,Nxd5,Bxd5,Bxd5,Qe2,Bb4,Bf4,Nd4,Qxe5+,Kf8,Qxd4,Bxg2,Qxb4+,Kg8,Rg1,Qe8+,Ne2,Bc6,O-O-O,h6,Bxc7,Qxe2,Rde1,a5,Bxa5,Qxf2,Qe7,hxg5,Rxg5,Re8,Qc7', 'Rxe1+,Bxe1,Qxe1#', 'https://lichess.org/training/1B6Uz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1b8UH', 'Rapid', 'zeweeer', 2231, 'swine', 1958, 'e4,b6,Nf3,e6,Nc3,g6,d4,Bg7,e5,Bb7,Bd3,Ne7,Bg5,Nbc6,Ne4,h6,Bf6,Rh7,Bxg7,Rxg7,Nf6+,Kf8,h4,Ng8,Ng4,Qe7,Qd2,h5,Ne3,Nb4,c3,Bxf3,gxf3,Nxd3+,Qxd3,Rd8,f4,d6,O-O-O,dxe5,fxe5,Nh6,f4,a5,Rdf1,Kg8,d5,Kh8,c4,Nf5,Nxf5,exf5,Qf3,Qc5,Qc3,a4,a3,Rgg8,e6+,Kh7,exf7,Rgf8,Re1,Rxf7,Re6,Qf2,Kb1,Qxf4,Rg1,Rg8,Qe1,Qxc4,Rg5,Qd3+,Ka1,Qxd5,Qe2,Qd7,Rxh5+,gxh5', 'Qxh5+,Kg7,Qh6#', 'https://lichess.org/training/1b8UH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1BADx', 'Rapid', 'mostafa1049', 1948, 'Hukola64', 1831, 'd4,Nf6,c4,d6,Nc3,g6,e4,Bg7,Nf3,O-O,Be2,c6,O-O,Nbd7,h3,h6,Be3,Kh7,Qd2,Ng8,Bd3,e5,dxe5,Nxe5,Nxe5,dxe5,Rad1,Be6,b3,b6,Qe2,Qe7,Nb1,Nf6,Nd2,Nh5,Nf3,Nf4,Qd2,Nxd3,Qxd3,Rad8,Qe2,Rxd1,Rxd1,Rd8,Rxd8,Qxd8,Qd2,Qxd2,Bxd2,g5,Kf1,c5,Ke2,f5,exf5,Bxf5,Bc3,e4,Bxg7', 'exf3+,Kxf3,Kxg7', 'https://lichess.org/training/1BADx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1bdE0', 'Rapid', 'Sfide_Mentali', 2018, 'demak_1234', 2145, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Nxc3,Bb4,Bc4,Nf6,e5,d5,Bb5,Ne4,O-O,Nxc3,bxc3,Bxc3,Ba3,Be6,Rc1,Ba5,Nd4,Bd7,e6,fxe6,Rxc6,bxc6,Nxc6,Qf6,Nxa5,Bxb5,Re1,Kf7,Re3,Kg8,h3,h5,Nb3,Bc4,Nd4,Re8,Qc2,c5,Bxc5,e5,Nf5,g6,Ng3,e4,Nxe4,Rxe4,Rxe4,dxe4,Qxc4+,Kh7,Bd4,Qe7,Bxh8,Kxh8,a4,a5,Qc3+,Kh7,Qxa5,e3,Qe1,e2,a5,Qe4,g3,Qd3,f3,Qe3+,Kg2,g5,a6,Kh6,a7,Qxa7,Qxe2,Qf7,Qd2,Kg6,Qc2+,Kh6,Qc6+,Kh7,Qe4+,Kh6,h4,gxh4,Qxh4,Qa2+,Kh3,Qe6+,g4,Qd5,Qf6+,Kh7,g5,Kg8,Kh4,Qd1,Kxh5,Qh1+,Kg4,Qg2+,Kh5', 'Qh3+,Kg6,Qh7#', 'https://lichess.org/training/1bdE0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1beaC', 'Blitz', 'S_Leonardo', 1659, 'blunderblunder', 1701, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,O-O,Qe2,d6,a3,Bxd2+,Nbxd2,Bg4,h3,Nxd4,Qd3,Nxf3+,Nxf3,Bh5,O-O,Re8,Rfe1,Bg6,Ng5,Nxe4,Nxe4,c6,Bxf7+,Bxf7,Nxd6,Re6,Rxe6,Bxe6,Rd1,Bd5,Qg3,Qf6,b4,b6,Re1,Rf8,Re3,Qb2,Qe5', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/1beaC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1bFfc', 'Rapid', 'Attytiger', 1902, 'LeonidTrozky', 1928, 'e4,Nf6,Nc3,d5,Nf3,dxe4,Ng5,Qd4,d3,exd3,Bxd3,Bg4', 'Bb5+,Qd7,Bxd7+', 'https://lichess.org/training/1bFfc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1bFPY', 'Rapid', 'kommindieGruppe', 1864, 'BillSabab', 1830, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,Qe7,a3,Bxd2+,Nbxd2,b6,e4,O-O,Bd3,Bb7,O-O,d6,e5,dxe5,dxe5,Nfd7,Qe2,Nc5,Bc2,Nbd7,Ne4,Nxe4,Bxe4,Bxe4,Qxe4,Nc5,Qe2,Rad8,b4,Nb7,Rfd1,c5,b5,Na5,Nd2,Rd4,Rac1,Rfd8,Nf3,Rxd1+,Rxd1,Nxc4', 'Rxd8+,Qxd8,Qxc4,Qd1+,Qf1', 'https://lichess.org/training/1bFPY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1bg3H', 'Rapid', 'ruben11131', 1955, 'fanou17', 2124, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,Nbd7,f3,c6,g4,h5,g5,Ng8,h4,e5,d5,c5,Qd2,Ne7,Nge2,Nb6,Ng3,a6,Bd3,Bd7,O-O-O,Qc7,Kb1,O-O-O,Rc1,Kb8,Ka1,Rhf8,Nge2,f6,f4,fxg5,hxg5,exf4,Nxf4,Be5,Ne6,Bxe6,dxe6,Rf7,exf7,Nc6,Nd5,Nxd5,exd5,Nb4,Bxg6,Qa5,a3', 'Qxa3+,Kb1,Qa2#', 'https://lichess.org/training/1bg3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1BhXS', 'Rapid', 'medleymax', 1934, 'romadeluca', 1903, 'e4,c5,Nf3,d6,Bc4,Nf6,Qe2,e6,c3,Be7,d4,cxd4,cxd4,Nc6,d5,exd5,exd5,Na5,O-O,Nxc4,Qxc4,O-O,Bg5,h6,Bh4,a6,Nc3,b5,Qd4,Bb7,Rfe1,Re8,Bg3,Nh5,Qg4,Nxg3,Qxg3,Bf6,Rxe8+,Qxe8,Qxd6,Rd8,Qc5,Bxc3,Qxc3,Bxd5,Nh4,Qe4,Qg3,Bxa2,h3,Bd5,Rxa6,Bb7,Rxh6,Rd1+,Kh2,Qd3,Qb8+,Qd8,Qxd8+,Rxd8,Rb6,Rd7,Rxb5,g6,Nf3,Bxf3,gxf3,Kf8,Kg3,Rd3,Kf4,Rd4+,Ke5,Rd2,Kf6,Kg8,Rb8+,Kh7,Kxf7,Rxf2,Rb3,Rh2,f4,Rf2,Rb4,g5,Kf6', 'Rxf4+,Kxg5,Rxb4', 'https://lichess.org/training/1BhXS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1BIIZ', 'Rapid', 'Konstantin1981', 1652, 'rok1234', 1734, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,h3,Bh5,b4,Bb6,d3,a6,Nbd2,h6,Qb3,Nf6,Nh2,O-O,Ndf3,Ne7,Be3,Bg6,Bxb6,cxb6,Nh4,Nh5,Nxg6,Nxg6,Nf3,Qd7,d4,exd4,cxd4,b5,Bd5,Nhf4,Rfe1,Nxd5,Qxd5,Rae8,Nd2,Nf4,Qb3,d5,e5,Qf5,a3,Nd3,Rf1,Qg6,Qxd5,Nf4,Qf3,Ne6,Nb3,Ng5,Qe3,Ne4,Rfe1,Nd6,Nc5,Nf5,Qc3,Rc8,Qd2,Rc7,d5,Rd8,d6,Rcc8,Nxb7,Rd7,Nc5,Rdd8,Rad1,Nh4,f4', 'Nf3+,Kh1,Nxd2', 'https://lichess.org/training/1BIIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1bKCt', 'Rapid', 'Sfide_Mentali', 1938, 'sagarsojitra', 1869, 'e4,d5,e5,Bf5,d4,e6,Bd3,Ne7,Nf3,c5,c3,Nbc6,O-O,Rc8,a3,Bxd3,Qxd3,Nf5,b4,cxd4,cxd4,Qb6,Rd1,Be7,Nc3,O-O,Nxd5,Qd8,Nf4,g5,Nh5,g4,d5,gxf3,Qxf3,Nxe5,Qf4,Ng6,Qg4,Bf6,Nxf6+,Qxf6,Bg5,Qg7,Rab1,Ne5,Qf4,Rc4,Qd2,Rd4,Qc3,Rxd1+,Rxd1,f6,Bf4,exd5,Rxd5,Qf7,Rc5,Qa2,h3,Qb1+,Kh2,Nd3,Rxf5,Nxf2,Rxf6', 'Qh1+,Kg3,Ne4+', 'https://lichess.org/training/1bKCt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1bmfN', 'Rapid', 'Rocamadour97', 2041, 'Mouadjoundy', 1959, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,a6,f3,Nf6,Be3,e6,Bc4,Be7,Qd2,O-O,O-O-O,Nxd4,Qxd4,b5,Bb3,Bb7,g4,d5,exd5,b4,d6,bxc3,dxe7,Qxe7,g5,cxb2+,Kxb2,Nd5,h4,Nxe3,Qxe3,Rad8,Qe2,Qc7,h5,Rc8,g6,Qc3+,Kb1,Bxf3,gxf7+,Kh8,Qxe6,Bxh1,Rxh1,Qf3,Re1,Rc7', 'Qe8,Rxf7,Bxf7', 'https://lichess.org/training/1bmfN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1bmwN', 'Rapid', 'amarras', 1620, 'malkoca', 1679, 'e4,c5,Nc3,Nc6,f4,a6,Nf3,d6,Bc4,h6,O-O,Nf6,d3,Bg4,h3,Bh5,g4,Bg6,f5,Bh7,Ne2,Qc7,Bf4,e6,fxe6,fxe6,Bxe6,Be7,Nc3,Rf8,Qd2,g5,Bh2,Bg6,Nd5,Nxd5,exd5,Nd8,h4,Nxe6,dxe6,gxh4,Qxh6,Rg8,Nxh4,Bxh4,Qxh4,Qb6,c4,Qxb2,Bxd6', 'Qd4+,Kg2,Qxd6', 'https://lichess.org/training/1bmwN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1BtK7', 'Blitz', 'expert_21', 1924, 'ShamoHumbatli', 1911, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d5,e5,e6,f4,Bb4+,Bd2,Nge7,Bxb4,Nxb4,Qa4+,Nbc6,Nf3,O-O,Bb5,a6,Bxc6,bxc6,O-O,Bd7,Nc3,c5,Qd1,cxd4,Nxd4,Qb6,Rb1,Nf5,Ne2,Ne3,Qd3,Nxf1,Rxf1,Bb5,Qb3,Qa7,Kh1,Bxe2,Nxe2,Rab8,Qd3,Rxb2,f5,exf5,Ng3,d4,Nxf5,Qb7,Qg3,g6,Nh6+,Kg7,Nf5+,Kh8,Nh6,d3,e6,f5,Nf7+,Kg7', 'Qe5+,Kg8,Nh6#', 'https://lichess.org/training/1BtK7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1bUoF', 'Classical', 'glean', 1604, 'DmitryBunny', 1623, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Nxe4,Re1,Nc5,Bxf7+,Kxf7,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,Qd5+,Kg6,Nc3,Rb8,Re5,Bb7', 'Rg5+,Qxg5,Qxg5+', 'https://lichess.org/training/1bUoF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Bv9r', 'Rapid', 'mars94', 1891, 'PatoUlman', 1984, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Bg7,O-O,Nc6,Be3,Bd7,Nb3,a6,f4,Rc8,a4,O-O,Bf3,a5,Rc1,Nb4,g4,Bc6,Rf2,Qc7,g5,Nd7,f5,Ne5,Bh1,Nc4,Bd4,Nxb2,Qd2,Nxa4,Bxg7,Kxg7,f6+,exf6,gxf6+,Kh8,Qh6,Rg8,Rf4,Qb6+,Kf1,Qe3,Re1,Qxc3', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/1Bv9r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1bXYx', 'Rapid', 'sasha111', 2167, 'Beliebig', 2098, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,c6,Qc2,Be7,e3,O-O,Bd3,h6,Bh4,Na6,a3,Nc7,Nf3,Be6,O-O,Nce8,h3,Nd6,Ne5,Nfe4,Bxe7,Qxe7,Nxe4,dxe4,Bxe4,Nxe4,Qxe4,Bxh3,gxh3,f6,Qh4,g5,Ng6,Qg7,Qh5,Rfe8,f4,Rxe3,f5,Rg3+,Kh1,Re8,Rf3,Rxf3,Qxf3,Qc7,Rd1,b6,Kg2,Rd8,d5,cxd5,Qg3', 'Qc2+,Qf2,Qxd1,Qe3,Qc2+', 'https://lichess.org/training/1bXYx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1bzgo', 'Rapid', 'bob1000', 1898, 'ssbigred271', 1824, 'd4,d5,Nf3,Bg4,Nbd2,Bxf3,Nxf3,Nc6,Bf4,h6,c4,dxc4,d5,e5,dxc6,Qxd1+,Rxd1,exf4,cxb7,Rb8,Rd4,Rxb7,Rxc4,Rxb2,Rxc7,Nf6,Rxa7,Bb4+,Kd1,O-O,Kc1,Bc3,Rc7,Ba5,Kxb2,Bxc7,g3,Ne4,Bg2,Nxf2,Rc1,Rb8+,Ka1,Rb7,a4,fxg3,hxg3,Bxg3', 'Rc8+,Kh7,Ng5+,hxg5,Bxb7', 'https://lichess.org/training/1bzgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1C05H', 'Rapid', 'yinnyboy333', 1835, 'DCompany', 1860, 'e4,e5,Bc4,c6,d3,d5,exd5,cxd5,Bb5+,Nc6,Nf3,Bd6,Be3,h6,O-O,Nf6,Qe2,O-O,Nbd2,Bg4,Nb3,e4,dxe4,dxe4,Bc5,exf3,gxf3,Bh3,Rfd1,Nh5,Bxd6,Qg5+,Bg3,Nxg3,hxg3,Rfe8,Qd3,Ne5,Qe2,Nxf3+,Qxf3,Qxb5,g4,Bxg4,Qxg4,Re5,Nd4,Qxb2,Nf5,Re6,Rab1,Qf6,Rxb7,Rae8,Rxa7,Re1+,Rxe1,Rxe1+,Kg2', 'Qc6+,Qf3,Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/1C05H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1C0l6', 'Rapid', 'Emotion_Scanner', 2123, 'tomerari', 1953, 'g3,e5,c4,Nf6,Bg2,d5,cxd5,Nxd5,Nc3,Be6,Nf3,Nc6,O-O,Qd7,Ng5,O-O-O,Nxd5,Bxd5,Bh3,Be6,Nxe6,fxe6,Bg2,Bc5,d3,h5,Bg5,Rdf8,Rc1,Bb6,Qa4,Nd4', 'Bxb7+,Kxb7,Qxd7', 'https://lichess.org/training/1C0l6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1C5N4', 'Rapid', 'andreasdoppler', 1754, 'chilimi', 1728, 'c3,d5,d3,Nf6,Nd2,b6,h3,Bb7,g4,g5,Ndf3,h6,Bg2,Nbd7,Nd4,Bg7,Nf5,Rg8,Nxg7+,Rxg7,c4,e6,Qa4,Qe7,Nf3,Qc5,cxd5,Nxd5,Ne5,b5,Nxd7,Kxd7,Qd1,Rd8,Be3', 'Nxe3,fxe3,Bxg2', 'https://lichess.org/training/1C5N4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1C6Jm', 'Rapid', 'drfoliehatt', 1866, 'radivojegacevic', 1828, 'd4,e6,Bf4,d6,c4,h6,Nc3,Be7,e4,Nf6,e5,Nh7,d5,O-O,Bd3,dxe5,Bxe5,Bd6,Nf3,Bxe5,Nxe5,f5,f4,Nd7,O-O,Nxe5,fxe5,Qe7,Ne2,b6,Nf4,g5,Ng6,Qf7,Nxf8,Qxf8,g4,Qf7,gxf5,exf5,Qf3,g4,Qf4,Ng5,Bxf5', 'Nh3+,Kg2,Nxf4+', 'https://lichess.org/training/1C6Jm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1c7CO', 'Rapid', 'mc_iwank', 1703, 'Deatharctic', 1727, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Nd2,Nf6,Bxf7+,Kxf7,Qb3+,d5,Qxb4,Nc6,Qb3,Re8,Bxf6,Qxf6,Rc1,Nd4,Rxc7+,Kf8,Qb4+,Kg8,Ngf3,Nxf3+,Nxf3,Qa1+,Ke2,Rxe4+', 'Qxe4,dxe4,Rxa1', 'https://lichess.org/training/1c7CO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Cb3n', 'Rapid', 'Babola73', 1760, 'galtan', 1734, 'e4,e6,d4,d5,e5,c5,Nf3,cxd4,Bg5,Be7,Qd2,Qb6,b3,Bb4,c3,dxc3,Nxc3,Nc6,Be3,Qa5,Rc1,Nge7,Bd3,Bd7,O-O,Rc8,Qb2,Ba3,Qd2,Bxc1,Rxc1,Ng6,Nb5,Qxd2,Nd6+,Kf8,Bxd2,Rb8,Bc3,Ke7,Nb5,Rhc8,Nd6,Rf8,Nb5,a6,Na3,Rfc8,Nc2,b5,Bb2,Kf8,a4,bxa4,Ba3+,Kg8,bxa4,Rb3,Bxa6,Rcb8,Bb5,Ncxe5,Ncd4,Bxb5,Nxb5,R8xb5', 'Rc8+,Nf8,Rxf8#', 'https://lichess.org/training/1Cb3n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1cJkT', 'Classical', 'SERGEY_1963', 1662, 'gucelli', 1761, 'e4,e5,Bc4,Nf6,d3,h6,Nc3,c6,f4,d5,fxe5,Nxe4,Nxe4,dxc4,d4,Be6,Nf3,Bd5,Qe2,Na6,O-O,Be7,Nf6+,Kf8,Nxd5,cxd5,e6,f6,Ne5,Kg8,Nf7,Qb6,Nxh8,Kxh8,Qh5,Qxe6,Bxh6,gxh6,Qxh6+,Kg8,Rae1,Qf7,Rf4,f5,Re3,Qf6,Rg3+,Kf7,Qh7+,Ke8,Rxf5,Qxd4+,Rf2', 'Qd1+,Rf1,Bc5+,Re3+,Bxe3+,Kh1,Qxf1#', 'https://lichess.org/training/1cJkT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Cjyk', 'Rapid', 'Humanplay2020', 1711, 'Fruzzy', 1906, 'd4,d5,c4,e6,Nc3,Nf6,Qc2,c6,e4,dxe4,Bg5,Be7,Nge2,Nbd7,Rd1,Qa5,Bxf6,Nxf6,Ng3,O-O,a3,c5,Nxe4,Rd8,Nxf6+,Bxf6,dxc5,Bxc3+,bxc3,Rxd1+,Qxd1,Qxc3+,Qd2,Qxd2+,Kxd2,Bd7,Bd3,Rc8,Rb1,Bc6,f3,Rd8,Kc3,e5,a4,a6,a5,Kf8,Bxh7', 'g6,Bxg6,fxg6', 'https://lichess.org/training/1Cjyk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Clhu', 'Classical', 'SirZudo', 1692, 'Greg821', 1748, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,O-O,O-O,Nd5,d6,Nxf6+,Qxf6,d3,h6,Qe2,Be6,Bxe6,Qxe6,Be3,Bb6,Bxb6,axb6,d4,Nxd4,Nxd4,exd4,f4,Rxa2', 'f5,Qe5,Rxa2', 'https://lichess.org/training/1Clhu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1CO6V', 'Rapid', 'Triphil31', 1729, 'emorykid18', 1616, 'e4,c5,f4,d6,Bc4,Nc6,Nf3,h6,d4,cxd4,Nxd4,Nxd4,Qxd4,a6,O-O,Nf6,e5,dxe5', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/1CO6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1cRUx', 'Rapid', 'Durgune', 1908, 'kemo3355', 1916, 'e4,f5,exf5,Nf6,Nc3,d5,d4,Bxf5,Nf3,e6,Bd3,Bg4,h3,Bh5,g4,Bf7,Ne5,Qe7,Bg5,Nc6,Nxc6,bxc6,Bxf6,Qxf6,Be2,Bd6,Qd2,O-O,h4,Bg6,f3,Bg3+,Kf1,Bxh4,Kg2,Bg5,Qd1,Qf4,Rh3,Bf6,Bd3,Bxd3,Qxd3,h6,Ne2,Qg5', 'Rh5,Qxh5,gxh5', 'https://lichess.org/training/1cRUx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1cvdy', 'Classical', 'ROCKY_2000', 1666, 'rooby-road', 1651, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nxe5,d4,Bb4,dxe5,Bxc3+,bxc3,d6,Bc4,Qe7,Qd5,Be6,Qxb7,Rc8,Bxe6,Qxe6,O-O,dxe5,Ba3,Nf6,Qb5+,c6,Qd3,Rd8,Qf3,Rc8,Rfd1,c5,Qe3,O-O,Bxc5', 'Ng4,Qh3,Rxc5', 'https://lichess.org/training/1cvdy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1CXYB', 'Rapid', 'SAlexSV', 1683, 'davitt2009', 1615, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,b3,h6,Bb2,Nf6,d3,Be7,O-O,O-O,Qd2,Nc6,c3,Kh8,Qe3,a6,Nbd2,Rf7,d4,exd4,cxd4,Nh7,Nc4,Na7,a4,c6,g3,Nc8,Rad1,d5,exd5,exd5,Nfe5,Rf6,Na5,Nd6,Qd2,Qc7,f4,Ne4,Qe1,Bd8,b4,Be7,Ng4,Rff8,Nb3,b6,a5,b5,Nc5,Nxc5,dxc5,Nf6,Ne5,Kg8,Ng6,Rfe8,Qe6+,Kh7,Ne5', 'Bxc5+,bxc5,Rxe6', 'https://lichess.org/training/1CXYB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1CyTc', 'Rapid', 'rivit606', 1689, 'j89a', 1687, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Be3,Nxd4,Bxd4,Qb4+,Bc3,Qxe4+,Be2,Qxg2,Rf1,Nf6,Qd3,Ne4', 'Bf3,Nc5,Bxg2,Nxd3+,cxd3', 'https://lichess.org/training/1CyTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1cZOc', 'Rapid', 'ivandav', 1866, 'RussianKing', 1827, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,h3,c5,c3,Nc6,Bd3,Bxd3,Qxd3,Qb6,O-O,Nge7,Nbd2,cxd4,cxd4,Nf5,Nb3,a5,g4,Nfe7,Ng5,Ng6,Qf3,Qc7,Be3,h6,Nxe6,fxe6,Rac1,Qf7,Qg3,Be7,f4,O-O,f5,exf5,gxf5,Nh4,f6,Qg6,Qxg6,Nxg6,fxe7,Ngxe7,Nc5,Nf5,Ne6,Nxe3,Rxf8+,Rxf8,Nxf8,Kxf8,Rc3,Nd1,Rc1,Nxb2,Rb1,Nc4,Rxb7,Nxd4,Rd7,Nf3+,Kf2,Ncxe5,Rxd5,a4,Ra5,Ke7,Rxa4,Kf6', 'Rf4+,Ke6,Rxf3', 'https://lichess.org/training/1cZOc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1czTS', 'Rapid', 'ni-cola', 1768, 'Andyokean', 1795, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d3,Bg4,h3,Bh5,g4,Bg6,Nh4,e6,Nxg6,hxg6,Qf3,c6,a3,Nbd7,d4,Bb4,Bd2,Nd5,O-O-O,Nxc3,Bxc3,Bxc3,Qxc3,Qg5+,Qd2,Qd5,Bd3,O-O-O,Rde1,Qa2,c3,Nb6,Qe2,Na4,Bc4', 'Qa1+,Kd2,Qxb2+', 'https://lichess.org/training/1czTS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1d0eH', 'Blitz', 'Daca80', 1514, 'jchrist02', 1512, 'd4,c6,e3,d6,Bd3,g6,h3,Bg7,Bd2,Nf6,Bc3,Qc7,Qd2,O-O,Nf3,Re8,Ng5,h6,Ne4,e5,dxe5,dxe5,Nxf6+,Bxf6,Qe2,b5,Nd2,e4,Nxe4,Bg7,Bxg7,Kxg7,O-O-O,Bb7,Ng3,Nd7,f4,Nc5,f5,Nxd3+,Rxd3,c5,fxg6,fxg6,Nh5+,gxh5,Qxh5,Re5', 'Qg4+,Kh8,Rd7,Qxd7,Qxd7', 'https://lichess.org/training/1d0eH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1D4By', 'Blitz', 'flojogo', 1583, 'leostrike', 1652, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,a5,d4,exd4,cxd4,Bb4+,Nc3,d6,d5,Ne5,Nxe5,dxe5,O-O,Nf6,Re1,O-O,Bd2,c6,Kh1,cxd5,Nxd5,Nxd5,Bxd5,Rb8,Bxb4,axb4,Qb3,Qd6,Rad1,Be6,Bxe6,Qxe6,Qxb4,Qxa2,Rd7,b6,Re7,f6,h3,Qa5,Qxa5,bxa5,Rb1,Ra8,Ra1,Rfb8,Ra2,a4,Rc7,Rb3,Rc3,Rxc3,bxc3,Kf7,Kg1,Ke6,Kf1,Kd6,Ke2,Kc5,Kd3,Rd8+,Kc2,Kb5,Rb2+,Kc6,c4,Rd4,Kc3,Rxe4,Ra2,Kb6,Rxa4,Re2,Rb4+,Kc6,Rb2,Re4,f3,Rd4,g4,g5,Rd2,Kc5,Rxd4', 'exd4+,Kd3,h6,Ke4,Kxc4', 'https://lichess.org/training/1D4By');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1DBdJ', 'Rapid', 'sequenz420', 1860, 'Ray3909', 1930, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Na5,O-O,Nxc4,dxc4,d6,Re1,Bg4,Nbd2,Be7,h3,Bh5,b3,O-O,Bb2,c6,a4,a5,Nf1,Bg6,Ng3,Qb6,Nh4,Nxe4,Nxg6', 'Qxf2+,Kh1,Nxg3+', 'https://lichess.org/training/1DBdJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1DhgH', 'Rapid', 'anohinvs', 1993, 'ElAtrida', 1865, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Be7,Bd3,e5,Nf5,Rg8,Nxe7,Qxe7,Bg5,h6,Nd5,Qd6,Bxf6,gxf6,Qh5,Rg6,O-O-O,Nc6,c3,Ne7,Bc4,Qc6,Nxe7,Kxe7,Bd5,Qa6,Kb1,d6,f4', 'Bg4,Qh4,Bxd1', 'https://lichess.org/training/1DhgH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1DhvS', 'Rapid', 'eliaelia', 1633, 'Predoks', 1616, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Ng5,d5,exd5,Na5,Qe2,Nxc4,Qxc4,Nxd5,d3,h6,Nf3,Bb4+,c3,Ba5,Bd2,Bb6,O-O,O-O,Nxe5,Be6,Qe4,Qf6,d4,Rae8,Nd7,Bxd7,Qxd5,c6,Qxd7,Re2,Be3,c5,Qxb7,cxd4,cxd4,Rxb2,Nc3,Rd8,Ne4,Qh4,Nc5,Qf6,Na4,Rb4,Nxb6,Rxb6,Qxa7,Rdb8,Qd7,Qg6,a4,Rb1,Raxb1,Rxb1,g3,Rxf1+,Kxf1,Qd3+,Kg2,Qe4+,Kh3,f5,Qd8+,Kh7,Qh4,Qh1,Qf4', 'Qf1+,Kh4,g5+,Qxg5,hxg5+', 'https://lichess.org/training/1DhvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1DIpo', 'Blitz', 'LeRoiCafard', 2213, 'skutzner', 2235, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Rb1,Qa5,Rb5,Qxc3+,Bd2,Qa3,Rb3,Qxa2,Bc4,cxd4,Qc1,Nc6,Ra3,Qxa3,Qxa3,O-O,Qa2,Bg4,Ng5,Ne5,Bb3,h6,h3,Nd3+,Kf1,Bd7,Nxf7,Kh7,h4,Bb5,Kg1,Rac8,h5,g5,Bxg5,hxg5,Nxg5+,Kh8,h6,Bf6,Ne6,Be5,Nxf8', 'Rc1+,Bd1,Rxd1#', 'https://lichess.org/training/1DIpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1DjRa', 'Rapid', 'Molodoy-I', 1636, 'Shield77', 1697, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd3,a6,Nc3,h6,Be2,Bb4,Bd2,Nf6,Nd5,Bxd2+,Qxd2,Nxe4,Qe3,O-O,Qxe4,Re8,Qd3,Ne5,Qc3,c6,Nf4,d6,O-O-O,Bf5,Bd3,Nxd3+,Nxd3,Qg5+,f4', 'Qxg2,Ne2,Qxe2', 'https://lichess.org/training/1DjRa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1dJw9', 'Rapid', 'DavideG24', 1648, 'Heuler09', 1632, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,Bd3,O-O,Bd2,d5,exd5,Nxd5,Nxd5,Bxd2+,Qxd2,Qxd5,O-O,Be6,Rfe1,Rad8,Qe3,f6,a3,Nd4,Nxd4,Qxd4,Qxd4,Rxd4,Re4,Rfd8,h3,Bf5', 'Rxd4,Rxd4,Bxf5', 'https://lichess.org/training/1dJw9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1dk0q', 'Rapid', 'Cunha', 1766, 'Wishapawn', 1920, 'e4,c6,d4,d5,e5,Bf5,c4,e6,c5,Nd7,b4,b6,a4,bxc5,bxc5,Bxc5,dxc5,Qa5+,Bd2,Qxc5,Nc3,Nxe5,h3,Nf6,Be2,d4,Nb1,d3,Bf3,Nd5,Ra3,Rb8,Bxd5,Qxd5,Kf1,Qc5,Rc3,Qd5,h4,h5,Nh3,Bg4,Qc1,Be2+,Kg1,Nf3+,gxf3,Qxf3,Rxc6,O-O,Nf4,Qg4+,Ng2', 'Bf3,Rh2,Bxc6', 'https://lichess.org/training/1dk0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1DLkV', 'Classical', 'Artola1', 1945, 'ali43', 2000, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Nf6,d4,d6,h3,Be7,O-O,h6,Rd1,exd4,cxd4,g5,e5,g4,Qf4,dxe5,Qxe5,gxh3,Nc3,Rg8,g3,h2+,Kh1,Bg4,Be2,Qd7,Re1,Be6,Nb5,Qc6+,Kxh2,Nd5,a4,a6,Bd2,Bd6,Nxd6+,Qxd6,Qxd6,cxd6,Bc4,Kd7,Rac1,Nf6,f3,Rac8,Bd3,h5,Rxc8,Rxc8,Rc1,Rxc1,Bxc1,Bb3,a5,Nd5,Bd2,Ke6,Kh3,Bd1,f4,Bg4+,Kh4,Nf6,Kg5,d5', 'f5+,Ke7,Bb4+,Ke8,Kxf6', 'https://lichess.org/training/1DLkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1DlOT', 'Rapid', 'Kumanev_Svyatoslav', 2035, 'Maksim_Egorov', 1658, 'c4,c5,g3,g6,Bg2,Bg7,Nc3,Nc6,e3,e6,Nge2,Nge7,d4,cxd4,exd4,d5,cxd5,exd5,O-O,O-O,Bg5,Bg4,Qd2,Qd7,Rfe1,Rfe8,Nf4,Nf5,Nfxd5,Rxe1+,Rxe1,Nfxd4,Nf6+', 'Bxf6,Bxf6,Nf3+,Bxf3,Qxd2', 'https://lichess.org/training/1DlOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1dmj8', 'Blitz', 'sunaria', 1828, 'Purkinje94', 1967, 'e4,e6,d3,d5,f3,dxe4,fxe4,Bc5,Nf3,Nc6,c3,e5,Qe2,Bg4,Be3,Bb6,Bxb6,axb6,Nbd2,Nf6,O-O-O,Rxa2,h3,Be6,Kc2,Qa8,Nb3,Qa4,c4,Na5,Nd2,b5,Qe3,bxc4,dxc4,b5,Qc5,bxc4,Bxc4,Bxc4,Nxc4,Qxb3+,Kb1,Nxc4,Qc6+,Ke7,Qc5+,Nd6,Qxc7+,Kf8', 'Qxd6+,Kg8,Qd8+,Ne8,Qxe8#', 'https://lichess.org/training/1dmj8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1dNhb', 'Blitz', 'Cappa_Blanca', 1712, 'Nigochess', 1711, 'e4,e5,Nc3,Nc6,f4,d6,Nf3,Nf6,Bc4,Be6,Bxe6,fxe6,fxe5,dxe5,O-O,Bc5+,Kh1,O-O,Ng5,Nd4,d3,h6,Nf3,a6,Nxe5,Qd6,Ng6,Rf7,e5,Qd8,exf6,Rxf6,Rxf6,Qxf6,Ne4,Qxg6,Nxc5,Qf5,Ne4,Nxc2,Bd2,Nxa1,Qxa1,Rd8,Qb1,Qb5,Nf2,e5,Bc3,Qc5,Qe1,Re8,Ne4,Qe7,Qd1,Qh4,Qb3+,Kh8,Qxb7,Qf4,h3,Qf1+,Kh2,Qf4+,Ng3,h5,Qf3,h4,Qh5+,Kg8,Qxe8+,Kh7,Qh5+,Kg8,Qe8+,Kh7,Qxe5', 'hxg3+,Kg1,Qf2+,Kh1,Qf1#', 'https://lichess.org/training/1dNhb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1DomJ', 'Rapid', 'king778899', 1802, 'aguscaki', 1791, 'd4,e6,c4,b6,Nc3,Bb7,Bf4,Qe7,e3,Nc6,Nf3,O-O-O,Bd3,d6,O-O,h5,b4,f6,b5,Nb4,a4,g5,Bxd6,Qxd6,a5,Nxd3,Qxd3,g4,axb6,axb6,Nd2,h4,Ra7,g3,h3,gxf2+,Rxf2,Qg3,Nf3,Bd6,Rfa2,Bxf3,Ra8+,Bxa8,Rxa8+,Kb7', 'Qe4+,c6,Qxc6#', 'https://lichess.org/training/1DomJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1dr3U', 'Classical', 'MathieuM', 1821, 'zirbto', 1740, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,exd4,cxd4,d6,Qb3,Be6,d5,Na5,Qb5+,c6,Qa4,b5,Bxb5,cxb5,Qxb5+,Bd7,Qd3,Nf6,O-O,O-O,Bg5,a6,Nbd2,Bb5,Qd4,Bxf1,Nxf1,Nd7,Bd2,Nb7,Ne3,Bf6,e5,dxe5,Qe4,Nbc5,Qg4,e4,Ng5,Bxa1,Qh5,h6,Nf5,Nf6,Nxh6+,Kh8', 'Nhxf7+,Kg8,Qh8#', 'https://lichess.org/training/1dr3U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1dwAE', 'Rapid', 'linboyuan', 1939, 'AntonMi', 1866, 'e4,e5,Nf3,Bc5,Nxe5,Qf6,d4,d6,dxc5,dxe5,Nc3,c6,Be3,Nh6,Be2,O-O,Qd2,a5,Bxh6,gxh6,O-O,Qg6,Qe3,Na6,Qg3,Nxc5,Qxe5,Bh3,Qg3,Qxg3,fxg3,Be6,Rad1,Rad8,e5,b5,a3,b4,axb4,axb4,Nb1,b3,c4,Na4,Nd2,Nxb2,Nxb3,Bxc4,Rxd8,Rxd8,Bxc4,Nxc4,Rf5,Rd5,Rf6,Nxe5,Rxh6,Rb5,Nd4', 'Rb1+,Kf2,Ng4+,Kf3,Nxh6', 'https://lichess.org/training/1dwAE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1dyBr', 'Rapid', 'maciek1959', 1658, 'vovaemel515', 2065, 'e4,e5,f4,exf4,Nf3,Nf6,Nc3,d5,e5,Ne4,d4,g5,Qe2,g4,Nd2,Qh4+,g3,Nxg3,Qf2,c6,Bg2,Nf5,Qxh4,Nxh4,Bxd5,cxd5,Nxd5,Na6,Nf6+,Kd8,Nde4,Bf5,Bxf4,Ng2+,Kf2,Nxf4,Kg3,Ne2+,Kf2,Nf4,Ke3,Ng6,Rad1,Be7,Rhf1,Bxe4,Nxe4,Ke8,d5,Nxe5,d6,Bd8,Rf5,Nf3,d7+,Kf8,Nd6,f6,Nxb7,Rb8,Nxd8,Rxd8,Rxf6+,Ke7,Rdd6,Nc5,b4,Nxd7', 'Rde6#', 'https://lichess.org/training/1dyBr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Dygl', 'Rapid', 'Flar', 1749, 'jakob', 1801, 'd4,Nf6,c4,g6,Nc3,Bg7,e3,d5,Nf3,O-O,Be2,c6,O-O,Nbd7,Ne5,Nxe5,dxe5,Ne4,Nxe4,dxe4,Qxd8,Rxd8,b3,Bxe5,Rb1,Be6,f3,f5,fxe4,fxe4,Bb2,Bxb2,Rxb2,h5,Rf4,Bf5,a4,Rd7,c5,e5,Bc4+,Kg7,Rff2,Rad8,b4,Rd1+,Rf1,R8d2,Rxd1,Rxd1+,Bf1,Ra1,a5,Kf6,Rd2,Rb1,a6,Rxb4,Rd6+,Ke7,axb7,Rxb7,Rxc6,Be6,Ra6,g5,Be2,h4,g3,hxg3,hxg3,g4,Kg2,Kd7', 'c6+,Kc7,cxb7', 'https://lichess.org/training/1Dygl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1E4AJ', 'Rapid', 'RogerioTavares', 1996, 'ahmed654321', 1887, 'c4,e5,Nc3,Nf6,a3,Bc5,e3,Nc6,b4,Be7,c5,d6,cxd6,Bxd6,Qc2,O-O,Bc4,Re8,Qa2,Be6,Bxe6,Rxe6,Nge2,e4,Ng3,Be5,O-O,Bxg3,fxg3,Ne5,Ne2,Nd3,Nf4,Ra6,Nxd3,exd3,Bb2,Qe7,Bxf6,Rxf6,Qc4,Rd8,Rae1,Rc6,Qf4,f6,Qf5,Rc2,Rf2,Ra2,Qa5,a6,Qa4,Rd4', 'Qb3+,Qf7,Qxf7+,Kxf7,exd4', 'https://lichess.org/training/1E4AJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1e5dp', 'Bullet', 'Sashra', 1892, 'Nurtilek2005', 1858, 'e4,c5,c4,Nc6,Nc3,e6,Nge2,Be7,g3,d5,exd5,exd5,Nxd5,Nf6,Bg2,Be6,Nxe7,Qxe7,O-O,O-O,b3,Bg4,f3,Bf5,d4,cxd4,Nxd4,Nxd4,Qxd4,Rad8,Qe3,Qxe3+,Bxe3,b6,Rad1,Bc2,Rxd8,Rxd8,Rf2,Rd1+,Rf1,Rd3,Bg5,Nd7,h3,f6,Bf4,Nc5,Rf2,Bb1,Bf1,Rc3,Bd2,Rc2,Bd3,Rb2,Bxb1,Rxb1+,Kg2,Nd3,Re2,Rb2,Kf1,Rxa2,Be3,Rxe2,Kxe2,Nb4,Bd2,Nc6,Kd3,Kf7,Ke4,Ke6,Be3,f5+,Kf4,h6,h4,Kf6,c5', 'g5+,hxg5+,hxg5#', 'https://lichess.org/training/1e5dp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1eALp', 'Classical', 'vADO69', 1761, 'marce66', 1778, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,c6,d4,Nd7,Bd2,Qd8,g3,e6,Bg2,Be7,O-O,Ngf6,a4,O-O,Re1,c5,dxc5,Nxc5,a5,Rb8,b4,Na6,Ne4,Bxb4,Bxb4,Nxb4,Nxf6+,Qxf6,Qd2,Nd5,c4,Nc7,Nh4,Rd8,Qc2,e5,Be4,g6,Ra3,b6,axb6,axb6,Rf3,Qe7,Rd3,Be6,Nf3,Rxd3,Qxd3,Rd8,Qc3,Qc5,Nxe5,Nb5,Qb2,Nd4,Rd1,Nf3+', 'Bxf3,Rxd1+,Bxd1', 'https://lichess.org/training/1eALp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1eCId', 'Rapid', 'AnatolyKarpark', 1667, 'hungrydave', 1722, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,Nf6,e5,Ng4,cxd4,O-O,h3,d5,exd6,Nf6,dxc7,Qxc7,Ba3,Re8,Ng5,Be6,Nxe6,fxe6,Bb2,Rad8,Qb3,Nd5,Nc3,Nxd4,Nxd5,Nxb3,Nxc7,Bxc7,Bxb3,Kf7,Rfe1,Bb6,Re2,Rd6,Ba4,Red8,Ba3,Rd2,Rxd2,Rxd2,Rf1', 'Rxa2,Bd7,Rxa3', 'https://lichess.org/training/1eCId');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ED1a', 'Rapid', 'WeakenYou', 1773, 'kurtozan251', 1812, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,Bb4,Bd2,Bxc3,Bxc3,O-O,e3,Ne4,Qc2,Nxc3,Qxc3,c6,Be2,Nd7,O-O,Nf6,Rac1,Ne4,Qc2,Bd7,Nd2,Nf6,cxd5,cxd5,Qd3,a6,Rc2', 'Bb5,Qc3,Bxe2', 'https://lichess.org/training/1ED1a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1eGAG', 'Rapid', 'hasanali54', 2246, 'EErdemm', 2045, 'd4,e6,c4,Nf6,Nc3,d5,cxd5,exd5,Bg5,Bb4,Qc2,c6,e3,h6,Bh4,g5,Bg3,Ne4,Be5,f6,Bg3,Bf5,Bd3,Nxg3,hxg3,Bxd3,Qxd3,Qe7,Ne2,Nd7,a3,Bd6,b4,Nb6,Qg6+,Qf7,Qf5,Ke7,e4,Qe6,Qf3,Rac8,O-O,Kf7,Qh5+,Kg7,f4,dxe4,f5,Qe7,Qg6+,Kf8,Nxe4,Nd5,Nxd6,Qxd6,Rac1,Re8,Nc3,Nxc3,Rxc3,Qxd4+,Kh2,Qxc3,Rd1,Rg8,Qxh6+,Ke7,Qh7+,Kf8,Rd7,Qc4,Qh6+,Rg7,Qxf6+,Rf7', 'Qh8#', 'https://lichess.org/training/1eGAG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1eHBI', 'Rapid', 'milov', 1884, 'daniel834', 1946, 'e4,d5,e5,c5,Nf3,Nc6,c3,e6,d4,a6,Bd3,b5,O-O,c4,Bc2,Nge7,Bg5,h6,Bh4,Qc7,Nbd2,Bb7,Re1,b4,Bb1,a5,Nf1,Ng6,Bg3,Be7,Bxg6,fxg6,Qc2,g5,Qg6+,Kd7,Ne3,Rhg8,cxb4,axb4,Rec1,Raf8,Qc2,Rxf3,gxf3,Nxd4,Qd1,Qb6,Nc2,Nf5,Ne3,Nxg3,hxg3,Bc5,Nxc4,Bxf2+,Kg2,Qa7,Nd6,Ba6,Ne4,Bd4,Qa4+,Ke7,Nd6', 'Bf1+,Kxf1,Qxa4', 'https://lichess.org/training/1eHBI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1EhNn', 'Classical', 'cavaloderocha', 1880, 'Iguana13', 2065, 'd4,c6,e4,d5,exd5,cxd5,Nf3,Nc6,Bf4,Nf6,Bd3,Bg4,h3,Bh5,O-O,e6,Nc3,a6,Be2,Bd6,Be3,Rc8,Nh2,Bg6,a3,Bb8,Ng4,Qc7,g3,h5,Nxf6+,gxf6,Bf4,Qb6,Bxb8,Nxb8,Rb1,h4,Kg2,hxg3,fxg3,Ke7,Bf3,Rh7,Qe2,Kf8,Bg4,Kg7,Qf2,f5,Nxd5,exd5,Bxf5,Bxf5,Qxf5,Qe6,Qg5+,Kh8,Rf5,Rg8,Qf6+,Qxf6,Rxf6,Rhg7,g4,Nc6,c3,Re8,Rbf1,Kg8,R6f5,Re2+,R1f2,Rxf2+,Kxf2,Ne7,Re5,Kf8,Kf3,f6,Re6,Kf7,Rb6,Rh7,Kg3,f5,Rxb7,fxg4,hxg4,Rh1,g5,Ke6,Rb6+,Kf5,Rxa6,Kxg5,Rb6,Nf5+,Kg2,Rc1,a4,Kf4,a5,Rc2+,Kh3,Rc1,Kg2,Ne3+,Kh2,Rc2+,Kh3,Rc1,Rf6+,Kg5,Rb6,Rh1+,Kg3,Nf5+,Kg2,Rc1,Rb7,Kf4,a6,Rc2+,Kh3,Rc1,Kg2,Ne3+,Kh2,Ng4+,Kg2,Rc2+,Kg1,Kg3,Kf1,Kf3,Ke1,Rc1+,Kd2,Ra1,a7,Ke4,Kc2,Ne3+,Kb3,Nc4,Kc2,Ra2,Kb1,Ra6,b3,Na5,Re7+,Kd3,b4,Nc4,Rh7,Kxc3,b5,Ra5,Rh3+,Kxd4,Rh7,Kc5,Rc7+,Kxb5,Rd7,Kc6,Rh7,d4,Kc2,Kc5', 'Rh5+,Kb6,Rxa5,Nxa5,a8=Q', 'https://lichess.org/training/1EhNn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1EJAD', 'Classical', 'chess1965', 1713, 'igrok51', 1720, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Nge7,a3,Bd7,dxc5,Qxc5,b4,Qb6,O-O,Qc7,Qe2,Ng6,Bxg6,fxg6,Bf4,Be7,Nbd2,O-O,Bg3,h6,Rfe1,Rf7,Nh4,g5,Ng6,Kh7,Nxe7,Nxe7,Qd3+,Nf5,h3,g6,Bh2,Raf8,Nf3,a6,a4,b5,a5,Bc6,Re2,Qb7,Nd4,Bd7,Rd1,Nh4,Bg3,Nf5,Bh2,h5,g4,hxg4,Nxf5,exf5,hxg4,Be6,gxf5,gxf5,Qh3+,Kg7,Qh5,Qe7,f3', 'Rh8,Qxg5+,Qxg5+', 'https://lichess.org/training/1EJAD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1EJqp', 'Rapid', 'barto77', 1853, 'Brahaf', 1865, 'e4,d6,d4,e5,d5,Be7,Nf3,f5,Nc3,Nf6,Bd3,O-O,Bg5,Nxd5,Bxe7,Nxe7,Nd5,Nxd5,exd5,e4,O-O,exf3,Qxf3,Nd7,Rae1,Ne5,Qh5,Rf6,f4,Rh6,Qe2,Nxd3,Qxd3,Bd7,Re3,Qf6,Rfe1,Qf7,Re7,Re8', 'Rxf7,Rxe1+,Kf2,Kxf7,Kxe1', 'https://lichess.org/training/1EJqp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ELDf', 'Rapid', 'natik1069', 1899, 'everaldoluvizeto', 1944, 'd4,e6,Bf4,b6,e3,Bb7,Nf3,Nf6,Nbd2,Bb4,c3,Be7,Bb5,a6,Ba4,Nh5,Be5,f6,Bg3,Nxg3,hxg3,O-O,Bc2,h6,Nh4,a5,a4,f5,Ng6,Rf6,Ne5,Bxg2,Rh2,Bb7,Qe2,d6,Nef3,Ba6,c4,d5,b3,Bb4,O-O-O,dxc4,bxc4,Nc6,Qe1,Bb7,Qg1,Qe7,Kb1,Nd8,d5,exd5,cxd5,Bxd5,Nb3,Nc6,Rxd5,Rd8,Rxd8+,Nxd8,Qd1,Rd6,Nbd4,c5,Bb3+,Kh8,Qc2,cxd4,Nxd4,Qe4,Qxe4,fxe4,Rh5,Nc6,Nxc6,Rxc6,Bd5,Rf6,Re5,g5,Re8+,Kg7,Bxe4,Rxf2,Re6,Bc5,Rg6+,Kf7,Rxh6,Bxe3,Bd5+,Ke7', 'Re6+,Kd7,Rxe3', 'https://lichess.org/training/1ELDf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1eMTQ', 'Blitz', 'linto', 1830, 'sakshilekh', 1792, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Bg5,e6,cxd5,exd5,Qf3,Nxd4,Qd3,Bc5,Nf3,Nxf3+,gxf3,d4,O-O-O,O-O,Ne4,Be7,Qxd4,Qc7+,Kb1,Bf5,h4,Rad8,Bxf6,Bxf6,Qa4,Rxd1+,Qxd1,Rd8,Bd3,Qd7,Nxf6+,gxf6,Rg1+,Kh8,Bc2', 'Qxd1+,Rxd1,Rxd1#', 'https://lichess.org/training/1eMTQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ePgy', 'Rapid', 'Murex', 1823, 'paololucca', 1823, 'e4,d5,exd5,Qd6,Nc3,Nf6,Bc4,a6,d3,b5,Bb3,Bb7,Qf3,Nbd7,Bf4,Ne5,Bxe5,Qxe5+,Nge2,e6,d4,Qd6,O-O-O,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,Qxd5,exd5,Nf4,O-O-O,Rhe1,Bb4,c3,Ba5,Nd3,Bb6,Ne5,Rhf8,Nc6,Rd6,Nb4,a5,Nd3,b4,Re7,bxc3,bxc3,Kd8,Rde1,Rd7,Rxd7+,Kxd7,Kc2,c6,Rb1,Rb8,Nc5+,Kd6,Na4,Bc7,Rxb8,Bxb8,h3,Ke7,Nc5,g5,g4,f6,Kb3,Bd6,Nb7,Bc7,Ka4,Ke6,Nxa5,f5,gxf5+,Kxf5,Nxc6,h5,Ne7+,Ke4,Kb5,Bd8,Nc6,g4,hxg4', 'h4,Nxd8,h3,a4,h2', 'https://lichess.org/training/1ePgy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ErAp', 'Classical', 'ulas90', 1855, 'Kholpilova', 2145, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,exd6,Nf3,Bg4,Be2,Nc6,b3,Be7,O-O,O-O,Nc3,Bf6,Be3,Re8,Rc1,d5,cxd5,Nxd5,Nxd5,Qxd5,Rc5,Qd6,Rc4,Rad8,d5,Qxd5,Rxg4,Qf5,Rf4,Qa5,Qc2,Nb4,Rxb4,Qxb4,Qxc7,Rc8,Qd7,Red8,Qh3,h6,Qf5,a6,h3,b5,Bb6,Re8,Bd3,Rc6,Qh7+,Kf8,Be3,Rce6,Rc1,Rxe3,fxe3,Qd6,Kh1,g6,Qxh6+,Bg7,Qh4,Qxd3,Qb4+,Kg8,Qa5,Qxe3', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/1ErAp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1eRYB', 'Rapid', 'emiliooo', 2278, 'Qualunque', 2263, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,Bb3,a6,h3,h6,Nbd2,O-O,Nf1,Be6,Bc2,d5,Qe2,dxe4,dxe4,b5,Ne3,Re8,O-O,Bf8,b3,b4,Bb2,bxc3,Bxc3,Nd4,Qd1,Nxc2,Qxc2,Bd6,Rad1,Qc8,Nh4,Qb7,Nd5,Nxd5,exd5,Bxd5,Qd3,Bc6,Qg3,Re6,Rfe1,Rae8,f4,Bb4,Bxe5,f6,Nf5,Bf8,Bc3,Rxe1+,Rxe1,Rxe1+,Bxe1,Kh7,Nh4,Be4,f5,Qb6+,Bf2,Qb5,a4,Qd5,Qg6+,Kg8,Qe8,Bxf5,Nxf5,Qxf5,Qa8,Kf7,Qxa6,Qb1+,Kh2,Bd6+,g3,Qxb3,a5,Qf3,Qc4+,Kf8,Qd4,h5,h4,g5,hxg5,fxg5,Qh8+,Kf7,Qh7+,Kf6,Bd4+,Ke6,Qg8+,Kd7,Qxg5,Qe2+,Kh3,Qf1+,Kh2,Qe2+,Kh1,Qf1+,Kh2,Qe2+,Kg1', 'Qd1+,Kg2,Qxd4', 'https://lichess.org/training/1eRYB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1es83', 'Blitz', 'karapiton', 1824, 'Alonso_Calderon', 1865, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,Bd6,Bg3,O-O,Nf3,c5,cxd5,exd5,e3,Nc6,Be2,Re8,O-O,Bxg3,hxg3,cxd4,Nxd4,a6,Bf3,Qd6,Rc1,Ne5,Be2,Bg4,Bxg4,Nfxg4,Nf5,Qg6,Nh4,Qh5,f4,Nc4,Qxd5,Qxd5,Nxd5,Ncxe3,Nxe3,Rxe3,Nf5,Re2,Rc7,Rxb2,Rfc1,g5', 'Rc8+,Rxc8,Rxc8#', 'https://lichess.org/training/1es83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1euaw', 'Rapid', 'dignocrib', 2170, 'topalov-36', 2170, 'e4,c5,f4,d5,e5,e6,Nf3,Nc6,c3,d4,Bd3,Nge7,Qe2,Ng6,g3,Be7,Be4,O-O,d3,dxc3,bxc3,Qc7,Be3,a6,Nbd2,Bd7,O-O,Rad8,Nh4,Nxh4,gxh4,f5,exf6,Rxf6,Nf3,b6,Ng5,Rh6,Qg4,e5,f5,Rg6,fxg6,Bxg4', 'gxh7+,Kh8,Nf7#', 'https://lichess.org/training/1euaw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1EuFZ', 'Rapid', 'jorgemiranda30', 1745, 'wjadro', 1681, 'e4,e5,f4,exf4,Bc4,d6,Nf3,Nf6,O-O,Nc6,d4,Be7,e5,dxe5,dxe5,Qxd1,Rxd1,Ne4,Bxf4,Bc5+,Kf1,O-O,Nc3,Nxc3,bxc3,Bg4,Rd2,g6,Nd4,Bxd4,cxd4,Nb4,c3,Nc6,Rb1,Na5,Bd5,c6,Be4,Be6,Rxb7,Nxb7,Bxc6,Rab8,d5,Bf5,e6,Na5,Bxb8,Rxb8,e7,Nxc6', 'dxc6,Re8,Rd8', 'https://lichess.org/training/1EuFZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1EVjS', 'Rapid', 'reytot18', 1697, 'fersa', 1658, 'e4,b6,d4,Bb7,Bd3,e6,c4,h6,Nc3,a6,f4,Ne7,Nf3,g6,Be3,Bg7,O-O,O-O,Qc2,f5,Nh4,fxe4,Bxe4,d5,cxd5,Bxd5,Bxg6,Nxg6,Qxg6', 'Qxh4,Nxd5,exd5', 'https://lichess.org/training/1EVjS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1eYnH', 'Classical', 'Hispalik', 1657, 'newt1969', 1885, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,e5,Qb6,Qxb6,axb6,Bd3,Bc5,O-O,Ne7,Kh1,O-O,Nc3,Ng6,f4,f6,Nd5,fxe5,Nxc7,Ra4,f5,Nf4,Bxf4,exf4,Nd5,Kh8,Nxf4,Bd4,c3,Be5,Rf3', 'Rxf4,Rxf4,Bxf4', 'https://lichess.org/training/1eYnH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1F19L', 'Rapid', 'signbit', 1844, 'tyazchenko', 1948, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,Nf6,h3,Bf5,d3,e6,Bd2,Qb6,O-O,c6,Be3,Qc7,d4,Bd6,Bd3,Bxd3,Qxd3,Nbd7,a4,O-O,Ne4,Nxe4,Qxe4,Nf6,Qh4,h6,Bxh6,gxh6,Qxh6,Nh7,Rfe1,Bf4,Qh5,Qe7,Re4,Qf6,g3,Bh6,Rg4+,Bg7,Ng5,Nxg5,Rxg5,Qxd4,Re1,Qxb2,Re4,f6', 'Rxg7+,Kxg7,Rg4#', 'https://lichess.org/training/1F19L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1f1yQ', 'Rapid', 'vobarnom1', 1723, 'Alfredo_Munoz_A', 1675, 'e4,e6,d4,d5,e5,Ne7,Nf3,Nf5,Nc3,c5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Be7,h3,Qb6,Na4,Qb5,c3,O-O,Bf4,f6,g4,fxe5,dxe5,Nh6,Bxh6,gxh6,b3,Rf7,Nh2,Bh4,Qd2,Raf8,Qxh6', 'Bxf2+,Rxf2,Rxf2', 'https://lichess.org/training/1f1yQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1F7FE', 'Rapid', 'newbie65', 1769, 'reyj', 1888, 'e4,d5,f3,dxe4,fxe4,e5,d3,Nf6,g3,Nc6,Nf3,Bg4,Bg2,Bc5,Nbd2,Qd7,Nb3,Be7,O-O,O-O-O,Qd2,h5,Na5,Bxf3,Bxf3,h4,gxh4,Rxh4,Nxc6,Qxc6,Rf2,Bc5,Qe2,Bxf2+,Qxf2,Rdh8,Qg3,Qc5+,Kf1,Rxh2,Bg2,Qxc2,Qxg7,Qxd3+,Ke1,Qd7,Qxf6,Rxg2', 'Qxh8+,Qd8,Qh3+', 'https://lichess.org/training/1F7FE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1fBih', 'Rapid', 'Rom_2014', 1872, 'TheNextBattle', 1745, 'e4,e6,e5,Ne7,d4,Ng6,h3,b6,a3,Bb7,Ne2,Nh4,Rg1,Be7,Ng3,O-O,Nc3,d6,Bf4,Bg5,Qg4,Bxf4,Qxf4,dxe5,Qxe5,Nc6,Qf4,Ng6,Qe3,e5,O-O-O,exd4,Qf3,Qg5+,Kb1,dxc3,Qxc3,Qc5,Qxc5,bxc5,Nf5,Nge7,Ng3,Nd4,Bd3,a5,h4,Ba6,Be4,Rab8,h5,f5,Bf3,Nxf3,gxf3,f4,Ne4,Bb7,Ng5,h6,Ne6,Rf6', 'Rxg7+,Kh8,Rxe7', 'https://lichess.org/training/1fBih');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1FFHO', 'Rapid', 'batilbok', 1871, 'Irakliiberi', 1892, 'Nf3,e6,d4,c5,e3,cxd4,exd4,d6,Bd3,e5,dxe5,dxe5,Nxe5', 'Qa5+,Nc3,Qxe5+', 'https://lichess.org/training/1FFHO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1fG4f', 'Rapid', 'Chess_Maestro007', 2071, 'Zopa', 2148, 'e4,e5,Nc3,Nf6,f4,d6,Nf3,Nc6,Bc4,Be7,O-O,O-O,d3,Na5,Bb3,Nxb3,axb3,a6,fxe5,dxe5,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/1fG4f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1FhTV', 'Rapid', 'bilolliddin', 1655, 'Singham12345', 1703, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Bd6,O-O,O-O,Bg5,Nbd7,Nbd2,c6,c3,Bb8,Qc2,Qc7,Bh4,Re8,Bd3,c5,Bg3,Qd8,Rae1,Rxe1,Rxe1,Bxg3,hxg3,b6,Ne5,Bb7,Ndf3,Rc8,Ng5,h6,Ngxf7,Qc7,Bh7+,Nxh7', 'Nxh6+,gxh6,Qg6+,Kh8,Nf7#', 'https://lichess.org/training/1FhTV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Fi4I', 'Classical', 'bloomie4452', 1802, 'richardhazinski', 1684, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Bc4,O-O,d3,h6,O-O,Re8,Nd5,Nxd5,Bxd5,c6,Bb3,d5,c3,Bf8,Re1,dxe4,dxe4,Qxd1,Rxd1,Be6,Bxe6,Rxe6,Rd8,f6,Be3,Kf7,Rad1,Re8,Nh4,Rxd8,Rxd8,Ke7,Rd3,a5,Nf5+,Kf7,a4,h5,Nd6+,Ke6,Nxb7,Nd7,f4,Rb8,f5+,Ke7,Nxa5,Rxb2,Nxc6+,Ke8,h3,Ra2,a5,Bc5,Bxc5,Nxc5,Rd8+,Kf7,Ra8,Nxe4,a6,Nxc3,a7,Nb5,Kh2,e4,Nd8+,Ke7,Ne6,Rxa7,Rxa7+,Nxa7,Kg1,Kf7,Kf2,Nc6,Ke3,g6,Kxe4,gxf5+,Kxf5', 'Ne7+,Ke4,Kxe6', 'https://lichess.org/training/1Fi4I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1FJA3', 'Rapid', 'PsychoMantisPro', 1817, 'Kean66', 1951, 'Nf3,e6,d4,d5,Bg5,Be7,Bxe7,Nxe7,Nc3,O-O,e3,Nd7,Bd3,c5,Qd2,c4,Be2,a5,a4,Nc6,Nb5,b6,c3,Ba6,b3,Bxb5,axb5,Na7,bxc4,dxc4,Bxc4,Rc8,Qd3,Qc7,Nd2,Rfd8,Rc1', 'Ne5,dxe5,Rxd3', 'https://lichess.org/training/1FJA3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1FL2K', 'Classical', 'Ovi4you', 1717, 'Ben_44', 1683, 'e4,c5,Bc4,e6,c3,d5,exd5,exd5,Qe2+,Be7,Bb5+,Bd7,Nf3,c4,Bxd7+,Nxd7,O-O,Ngf6,d4,O-O,Re1,Re8,Bg5,Bd6,Qd1,h6,Rxe8+,Qxe8,Bxf6,Nxf6,h3,Qe7,Nbd2,Re8,b3,b5,b4,Ne4,Qc2,Nxd2,Qxd2,Qe2', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/1FL2K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1fNJc', 'Rapid', 'karaman52', 1602, 'ugurluthor', 1627, 'd4,d5,c4,dxc4,e3,Qd5,Nc3,Qa5,Bxc4,e6,Bd2,Bb4,a3,Bxc3,Bxc3,Qb6,Nf3,Nf6,Bd3,Nc6,O-O,Bd7,Re1,O-O-O,b4,a6,Rb1,Nd5,Qc2,e5,dxe5,Nxc3,Qxc3,Bg4,Be2,Rhe8,Ng5,Bxe2,Rxe2,Nxe5,Nxh7,Rd3,Qc2,Qh6,f4,Ng4,Qxd3', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/1fNJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1fNSc', 'Blitz', 'dhruvik_shah', 1981, 'Ananthpai7', 1868, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,d6,d4,exd4,cxd4,Bb6,Bg5,h6,Bh4,Bg4,Qb3,O-O,e5,Bxf3,Qxf3,Nxd4,Qg3,Ne4,Qh3,Ng5,Qg3,d5,Bd3,Qe8,Bxg5,hxg5,Qxg5,Qe6,Nc3,c5,Bf5,Qxf5,Qh4,Qxe5,Rfe1,Qf5,Rad1,Qg6,Qf4,Ne6,Qh4,Nd4,Qh3,Rfe8,Rxe8+,Rxe8,Nxd5,Ne2+,Kh1,Qc2,Rf1,Nd4,Ne3,Qe2,Rg1,Qxb2,Qd7,Rf8,Nd5,Ne2', 'Ne7+,Kh7,Qh3#', 'https://lichess.org/training/1fNSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1FOIE', 'Rapid', 'josehern', 1676, 'ganzorig1978', 1655, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,d3,O-O,Be3,Bxe3,fxe3,Ne7,d4,Nxe4,dxe5,dxe5,Bd3,Nd6,Nd2,f6,Nc4,Nxc4,Bxc4+,Kh8,Rad1,Rad8,Rxd8,Rxd8,Kf2,c6,e4,Ng6,Kg3,Nf4,Kg4,Nxg2,Kf3,Nf4,a4,b6,b4,Ng6,Kg4,Nf4,Ra1,Ng2,Kf3,Nh4+,Kg3,Ng6,a5,Nf4,axb6,axb6,Ra6,Rb8,b5,c5,Ra7,h6,Bd5,Kh7,Rb7,Rxb7,Bxb7,Kg6,Kg4,h5+,Kh4,Ne2,c4,Nd4,Bd5,Kh6,Bf7,g5+,Kg3,Ne2+,Kf3,Nf4,Kg3,h4+,Kg4,Kg7,Be8,Ne6,Bd7,Nd4,Bc6,Nb3,Kf5,Nd4+,Kg4,Kg6,Bd5,f5+,exf5+,Nxf5', 'Be4,Kf6,Bxf5', 'https://lichess.org/training/1FOIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1fpTE', 'Rapid', 'Ziplug', 2492, 'sjakkentusiast', 2323, 'd4,d6,e4,e5,dxe5,Nc6,Nf3,dxe5,Qxd8+,Kxd8,Nc3,Bd6,Be3,Nf6,h3,h6,O-O-O,Be6,Nh4,a5,Nf5,Nxe4,Nxg7,Nxc3,Nxe6+,Ke7,bxc3,Kxe6,Kb2,Ke7,Bd3,Nd8,Rhe1,Ne6,g3,a4,a3,f6,f4,h5,Bc4,Ra5,Rd2,h4,g4,Kd7,Bxe6+,Kxe6,c4,exf4,Bxf4+,Be5+,c3,Rc5,Rd4,Kf7,Bxe5,Rxe5,Rxe5,fxe5,Rd7+,Ke6,Rxc7,e4,Rxb7,Rd8,Rb6+,Ke5,Kc2,e3,Rb7,Rd2+,Kc1,Ke4,c5,Rd5,Re7+,Kd3,c6,e2,c4,Rd4,Kb2,Rxc4,Rd7+,Ke3,Re7+,Kf2,Rf7+,Kg1,Re7,Kf2,Rf7+,Ke3,Re7+,Kf3,c7', 'Rxc7,Rxc7,e1=Q', 'https://lichess.org/training/1fpTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1FSBM', 'Blitz', 'zdenkec50', 2004, 'zanyjim', 1807, 'd4,e6,c4,Nf6,Nf3,d5,Nc3,Bb4,e3,c5,Qc2,O-O,dxc5,Ne4,cxd5,exd5,Bd2,Nxc5,Nd4,Bxc3,Bxc3,Ne4,Bd3,Re8,O-O,Nc6,f3,Nf6,Nxc6,bxc6,Rae1,Be6,Bd4,Qa5,a3,Rec8,Bxf6,gxf6,Bxh7+,Kg7,Bf5,Rab8,Bxe6,fxe6,Re2,Qb5,g4,c5,h4,Qb3,h5,Qxc2,Rxc2,Rb3,Kf2,c4,Re1,Rcb8,Ree2,e5,f4,d4,exd4,exd4,Rxc4,Rxb2,Rxb2,Rxb2+,Kf3,Rb3+,Ke4,Rxa3,Rxd4,Rg3,Kf5,Rb3,Rd7+,Kh6,g5+,fxg5', 'fxg5+,Kxh5,Rh7#', 'https://lichess.org/training/1FSBM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Fshs', 'Blitz', 'BranderVJ', 1752, 'jafari123', 1719, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bg5,Qc7,Nbd2,Ng6,h3,h6,Bh4,cxd4,cxd4,Bb4,Bg3,O-O,a3,Ba5,b4,Bb6,Bd3,Nxd4,Nxd4,Bxd4,Rc1,Qb6,Qh5,Bd7,O-O,Rac8,Nf3,Rxc1,Rxc1,Bb2,Rc2,Bxa3,Bxg6,fxg6,Qxg6,Bxb4,Ng5,Rf5', 'Qh7+,Kf8,Qh8+,Ke7,Qxg7+', 'https://lichess.org/training/1Fshs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1FTKY', 'Rapid', 'Niwde2222', 1927, 'ynyr', 1968, 'e4,c5,Nf3,d6,Nc3,g6,d4,cxd4,Nxd4,a6,Bc4,Bg7,Be3,Nf6,Qd3,O-O,Bb3,Qa5,h4,Nbd7,f4,Nc5,Qd2,Ncxe4', 'Nxe4,Qxd2+,Nxd2', 'https://lichess.org/training/1FTKY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1fuBh', 'Blitz', 'Habibzada_786', 2140, 'AbdulQaderBadghisy', 1993, 'e4,e5,f4,exf4,Nf3,g5,Bc4,h6,d4,d6,h4,Nc6,hxg5,Bg4,c3,Bg7,Bxf4,hxg5,Rxh8,Bxh8,Nxg5,Bxd1,Nxf7,Qh4+,Kxd1,Qxf4,Nxh8,Qxe4,Nd2,Qxg2,Kc2,Na5,Re1+,Kd7,Be6+,Kc6,d5+,Kb6,b4,Nc4,Rd1,Ne3+,Kc1,Nxd1,a4,Rf8', 'Nc4+,Ka6,b5#', 'https://lichess.org/training/1fuBh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1fVLk', 'Classical', 'rspereira', 1664, 'asil56', 1671, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,d3,Qf6,O-O,Bd6,Nd2,Qe5,Nf3,Qf6,b3,Qh6,Bb2,c5,Qd2', 'Bxh2+,Nxh2,Qxd2', 'https://lichess.org/training/1fVLk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1g1b2', 'Rapid', 'dewapahiliran', 1694, 'daniel921126', 1796, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nf6,c4,Be7,Bd3,Nd4,O-O,O-O,Be3,Nxd5,exd5,bxc4,Nxc4,Nb5,f4,f6,Qh5,f5,fxe5,dxe5,Nxe5,Qxd5', 'Bc4,Qxc4,Nxc4', 'https://lichess.org/training/1g1b2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1G1qV', 'Rapid', 'Fedorov-Sergey', 1800, 'Recidivism', 1845, 'e4,c6,Nf3,d5,d4,Bg4,Be2,Nf6,exd5,Nxd5,Nc3,e6,O-O,Qc7,Ne5,Nxc3,bxc3,Bxe2,Qxe2,c5,Ba3,Nd7,Nxd7,Qxd7,Rad1,O-O-O,Bxc5,Bxc5,dxc5,Qa4,Rxd8+,Rxd8,Rb1,Qxa2,Qb5,Qd5,h3,g5,c4,Qc6,Qa5,h5,Qxa7,g4,hxg4,hxg4,Rb6,Qe4,c6,Qe1+,Kh2,Rh8+,Kg3,Qe5+,f4,Qe3+,Kxg4,f5+,Kg5,Qg3+,Kf6,Rf8+,Kxe6', 'Qe3+,Kd5,Rd8#', 'https://lichess.org/training/1G1qV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1g4KN', 'Rapid', 'neuromanc', 1813, 'Xappok', 1796, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,d6,d3,Bg4,h3,Bh5,g4,Bg6,Ng5,h6,Nf3,Qd7,Be3,a6,Qe2,Be7,g5,hxg5,Bxg5,Ng4,Bxe7,Qxe7,O-O-O,Nf6,Ng5,O-O-O,Nf3,Bh5,Qe3,Bxf3,Qxf3,Nd4,Qe3,Rh6,Nd5,Nxd5,Bxd5,Rdh8,c3,c6,Bc4,Nb5,a4,Nc7,f4,exf4,Qxf4,Ne6,Qg4,g6,Rdf1,Rh4,Bxe6+,fxe6,Qxg6,Kb8,Rf3,R8h6,Qg8+,Ka7,Rf7,Rh8,Qxh8', 'Qg5+,Kb1,Rxh8', 'https://lichess.org/training/1g4KN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1G4Kw', 'Rapid', 'seok4', 1652, 'ILoveChess45', 1641, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,d6,h3,O-O,Bg5,h6,Bh4,a6,a3,Be6,Bxe6,fxe6,b4,Ba7,O-O,Nd4,Nxd4,exd4,Ne2,c5,c3,b6,cxd4,Qc7,dxc5,dxc5,Nf4', 'Qxf4,Bg3,Qg5', 'https://lichess.org/training/1G4Kw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1G5p7', 'Rapid', 'Belal98', 1717, 'leantwig', 1729, 'c4,d5,d4,Nc6,c5,e5,e3,e4,f3,Nf6,Nc3,Bf5,g4,Bg6,h4,h6,h5,Bh7,f4,Qd7,f5,g6,hxg6,fxg6,Bh3,gxf5,gxf5,Bxf5,Bxf5,Qxf5,Qe2,Nb4', 'Qb5+,Qd7,Qxb4', 'https://lichess.org/training/1G5p7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1G7Re', 'Rapid', 'Thomasgia', 1641, 'Fraenir', 1615, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,Nf6,O-O,d6,h3,O-O,a3,a6,Be3,Bxe3,fxe3,b5,Ba2,Ne7,d4,c6,dxe5,dxe5,Nxe5,Qb6,Qf3,c5,Nd5,Nexd5,exd5,c4,d6,Bb7,Qf2,Qxd6,Nf3,Ne4,Qh4,Rae8,Rad1,Qg6,Rd7,Nd2,Rxb7,Nxf3+,Rxf3,Qxc2,Rf2,Qc1+,Kh2,Qxe3,Rd7,Qe5+,Qg3,Qe1,Rdd2,Re3,Qd6,Rfe8,Qxa6,R3e5,Qc6,Qe3,Rfe2', 'Qf4+,Kg1,Rxe2,Qxe8+,Rxe8', 'https://lichess.org/training/1G7Re');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1g9Hr', 'Rapid', 'aaksnes', 1919, 'landondo', 1912, 'd4,Nf6,c4,c5,Nf3,e6,e3,Be7,Bd3,cxd4,Nxd4,Nc6,O-O,b6,Nc3,Bb7,b3,d5,cxd5,Nxd5,Nxd5,Qxd5,Bb5,O-O-O,Bxc6,Bxc6,Qf3,Qxf3,gxf3,Bb7,Bb2,Kb8,Rfd1,Bf6,Kg2,h5,h3,Rd5,Kf1,Rhd8,Ke1,Be7,a3,g5,Rac1,Bc5,b4,Be7,e4,R5d7,Nb5,Rxd1+,Rxd1,Rxd1+,Kxd1,Ba6,Be5+,Kc8,Nxa7+,Kb7,b5,Kxa7,bxa6,Kxa6,Bb2,f6,Kc2,e5,Kb3,Bc5,Bc3,Bxf2,Bb4,Bc5', 'Bxc5,bxc5,Kc4', 'https://lichess.org/training/1g9Hr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1g9WU', 'Rapid', 'lennit96', 1785, 'ChessKC1983', 1820, 'e4,c6,b3,d5,exd5,cxd5,Bb2,Bf5,Qh5,Bg6,Qf3,Nf6,Bb5+,Nbd7,Bxf6,exf6,Qxd5,Qe7+,Ne2,Rb8,O-O,a6,Bxd7+,Qxd7,Qxd7+,Kxd7,Nf4,Bxc2,Re1,Bd6,Nc3,Bxf4,Nd5,Be5,Rac1,Bg6,Nb6+,Ke7,f4,Ke6,fxe5,fxe5,d4,f6,d5+,Ke7,Rc7+,Kd6,Rec1,Rhe8', 'Rd7#', 'https://lichess.org/training/1g9WU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1gc4n', 'Blitz', 'pacorra99', 2121, 'V_--oltinash', 2166, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nf6,Nxc3,Bb4,Bxf7+,Kxf7,Qb3+,d5,Qxb4,Re8,Nf3,h6,e5,Nc6,Qf4,Kg8,O-O,Ng4,Re1,d4,Ne2,Ngxe5,Nexd4,Nxf3+,Nxf3,Rxe1+,Nxe1,Nd4,Qe4,Bf5,Qe5,Qe8,Bf4,Ne2+,Kf1,Nxf4,Qxf4,Qe6,Nf3,Re8,Re1', 'Bd3+,Kg1,Qxe1+,Nxe1,Rxe1#', 'https://lichess.org/training/1gc4n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1gEgR', 'Rapid', 'Bhambya', 1802, 'leoctbasud', 1811, 'e4,g6,d4,Bg7,Nf3,Nf6,Nc3,O-O,Bc4,Nc6,h3,e6,O-O,h6,e5,Ne8,Re1,d5,Be2,f6,Bd3,Kh7,Nh4,f5,Nf3,Nb4,a3,Na6,Ne2,b6,c4,c5,cxd5,Qxd5,Qc2,cxd4,Nexd4,Nc5,Bc4,Qb7,b4,Ne4,Nxe6,Rf7,Nd8,Qc7,Nxf7,b5,Nd6,bxc4,Nxe8,Qb6,Nxg7,c3,Be3,Qc6,Nxf5,gxf5,g4,Bb7,Nh4,Nd2,Bxd2', 'Qh1#', 'https://lichess.org/training/1gEgR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1gfyq', 'Blitz', 'prokaznik_k-444', 1671, 'bas-bas', 1621, 'e4,c5,Bc4,e6,Nc3,Nf6,d3,d5,exd5,exd5,Bb3,Be7,Nge2,Be6,O-O,Nc6,Ng3,O-O,Bg5,a6,Nh5,b5,Nxf6+,Bxf6,Bxf6,Qxf6,Bxd5,Bxd5,Nxd5,Qxb2,Re1,Qd4,Ne3,Rad8,Qc1,Qf6,Qa3,Nd4,c3,Nf5,Qxc5,Nxe3,Rxe3,Rc8,Qb4,Rxc3,Rae1,Rc2', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/1gfyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1GIXx', 'Rapid', 'WitNik', 1783, 'Sfide_Mentali', 2030, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,d4,Bg4,dxe5,Bxf3,Qxf3,Bxe5,Nd2,b5,Nb3,a5,c3,Qe7,Be3,Nf6,Rfe1,O-O,Nc5,a4,Nd3,Rfe8,a3,h6,Rad1,Nxe4,Nxe5,Qxe5,Bd4,Qd5,Qg4,Qg5', 'Rxe4,Qxg4,Rxg4', 'https://lichess.org/training/1GIXx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1gk2Y', 'Classical', 'ScumbagSam', 1624, 'nooryshoeep', 1609, 'd4,g6,e4,d6,d5,Bg7,Bc4,Nf6,Nc3,c6,Nf3,h6,O-O,Nbd7,Re1,Nb6,Bb3,cxd5,exd5,O-O,h3,Nfd7,Re3,Nc5,Qe1,Re8,a4,Nxb3,cxb3,Nd7,b4,b6,b5,Nc5,b4,Nd7,a5,a6,Ra3,f5,Re2,bxa5,bxa5,axb5,Nxb5,Ba6,Rb3,Rb8,Nbd4,Bxe2,Rxb8,Qxb8,Qxe2,Qb4', 'Qe6+,Kh7,Qxd7', 'https://lichess.org/training/1gk2Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1gLio', 'Rapid', 'Chesspatzeruk-TWITCH', 2021, 'ibreeh', 1860, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,b6,c4,Bb7,Nc3,e6,Be3,Nf6,f3,Bc5,Qd2,Bxe3,Qxe3,O-O,Be2,Rc8,O-O,e5,Rfd1,Qe7,Rac1,Rc7,Nb5,Rcc8,Nxa7,Ra8,Qxb6,Rfb8,Nb5,Bxe4,Qe3,Bc6,a3,e4,fxe4,Nxe4,Bf3,Bxb5,Qxe4,Qc5+,Kh1,Bc6,Qe2,Re8,Qd3,Re3,Qd4', 'Re1+,Rxe1,Qxd4,Bxc6,dxc6', 'https://lichess.org/training/1gLio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1GljP', 'Rapid', 'BlunderKing2020', 1997, 'Edwards113', 1979, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Be7,e3,h6,Bh4,O-O,Bd3,Nbd7,O-O,Nb6,c5,Nbd7,b4,Ng4,Bg3,f5,h3,Ngf6,Ne5,Nxe5,Bxe5,Ne4,Qc2,Bf6,f4,Bxe5,fxe5,Qg5,Ne2,Qxe3+,Kh1,Bd7,Rf3,Qg5,Raf1,Be8,Kh2,Bh5,Bxe4,fxe4,Rg3,Qe7,Nf4,Be8,Qc1,Qh4,Nxe6,Rxf1,Qxf1,Bd7,Rxg7+,Kh8,Rh7+,Kxh7', 'Qf7+,Kh8,Qg7#', 'https://lichess.org/training/1GljP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1gLX0', 'Bullet', 'DerKnobi', 1661, 'katarsys', 1624, 'd4,f5,Nf3,Nf6,Bf4,e6,e3,Be7,Bc4,O-O,c3,a6,Nbd2,Nc6,Qc2,Na5,Bd3,b5,c4,bxc4,Nxc4,Nxc4,Qxc4,Nd5,Bg3,Bb4+,Ke2,f4,exf4,Bd6,Be4,Bxf4,Bxd5,c6,Bxc6,dxc6,Qxc6,Bd7,Qe4,Bb5+,Ke1,Qa5+,Kd1,Bxg3,hxg3,h6,Qxe6+,Kh8,Ng5,Rae8,Nf7+,Kh7,Rxh6+,gxh6', 'Qxh6+,Kg8,Qg6#', 'https://lichess.org/training/1gLX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1GMoH', 'Rapid', 'olive46', 1604, 'arabzeinali', 1688, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bb4,Nd5,d6,Nxb4,Nxb4,d3,Bg4,Bg5,Qd7,h3,Bxf3,Qxf3,Nxc2+,Kd2,Nxa1,Rxa1,Qe7,b3,O-O-O,Qe3,a6,Qa7,Nxe4+,dxe4,Qxg5+,Kc3,Qxg2,Bxf7,Qxe4', 'Be6+,Rd7,Qa8#', 'https://lichess.org/training/1GMoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1GMPy', 'Rapid', 'A_Light_In_The_Attic', 1826, 'saoo', 1825, 'd4,d5,Bg5,h6,Bh4,Nd7,c4,c6,Nc3,Ngf6,cxd5,cxd5,e3,e6,Qe2,a6,e4,dxe4,Nxe4,Bb4+,Nc3,O-O,O-O-O,Bxc3,bxc3,Qa5,Qc2,Nd5,Ne2,N7f6,Bxf6,Nxf6,Rd3,Bd7,Rg3,Rac8,Kd2,Ba4,Qb2,Ne4+,Ke3,Nxg3,hxg3,Qg5+,f4,Qg6,Qxb7,Bb5,Qe4,f5,Qe5,Bxe2,Bxe2,Qxg3+,Bf3,Rxc3+,Kd2,Rfc8,Qxe6+,Kh8', 'Rxh6+,gxh6,Qxh6+,Kg8,Bd5#', 'https://lichess.org/training/1GMPy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1gnk3', 'Rapid', 'aligurkanmeb', 1942, 'CottonJack', 1777, 'Nf3,d5,c4,d4,e3,dxe3,fxe3,Bg4,Be2,Nf6,O-O,e6,d4,Nc6,Nc3,Bb4,Qb3,Rb8,a3,Bxc3,bxc3,O-O,Bd3,Bxf3,Rxf3,e5,Qc2,h6,d5,Ne7,e4,c6,Bxh6,gxh6,Rxf6,Kh7,Raf1,Qe8,Qf2,Kg7,d6,Ng6,Qf5,Rd8,g3,Qd7,Rxg6+,fxg6,Qxe5+,Kh7,c5,Rxf1+,Bxf1,Re8,Qd4,Rf8,e5,Re8,Bc4,b6,cxb6,axb6,a4,c5,Qd5,Kg7,e6,Qd8,e7,Rxe7,dxe7,Qxe7,Qg8+,Kf6,Qh8+,Kg5,h4+,Kg4,Qc8+,Kxg3,Be6,Qxh4,Qc7+,Kf3,Qf7+,Ke2,Qf1+,Ke3,Qc1+,Kd3,Qd1+,Kxc3,Qb3+,Kd2,Qd5+', 'Qd4+,Kg2,Qxd5+', 'https://lichess.org/training/1gnk3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1gryZ', 'Rapid', 'Alaa_adry', 1745, 'HOHAG45', 1857, 'g4,e6,Bg2,d6,h3,c6,b3,h6,Bb2,Nf6,Nc3,b5,e4,Be7,d4,d5,e5,Nh7,f4,a5,Qe2,Ba6,Qf2', 'Bh4,Nf3,Bxf2+', 'https://lichess.org/training/1gryZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1GVP8', 'Bullet', 'kasparov1679', 1997, 'sscheckmate1', 2051, 'e4,c5,Nf3,Nc6,c4,d6,Nc3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nf6,h3,O-O,g3,a6,Bg2,e5,Nde2,Be6,Nd5,b5,Bb6,Qd7,Nc7,Rab8,Nxe6,Qxe6,Bc7,Rb7,Bxd6,Rd8,c5,Ne8,Qd5,Nb4,Qxb7,Nc2+,Kd2,Nxa1,Rxa1,Nxd6,cxd6,Qxd6+,Ke1', 'Qd2+,Kf1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/1GVP8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1GvR5', 'Rapid', 'Qomar_Cj', 1833, 'dan207', 1856, 'c4,d6,Nc3,e5,Nf3,Nc6,d4,exd4,Nd5,Nf6,Nxf6+,Qxf6,Bg5,Qf5,Bh4,d5,a3,Be7,Bxe7,Nxe7,Nxd4,Qe5,e3,Be6,Qa4+,Bd7,Qb3,c5,Nf3,Qd6,Rd1,Be6,Be2,O-O-O,O-O,dxc4,Bxc4', 'Bxc4,Qxc4,Qxd1', 'https://lichess.org/training/1GvR5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1gvRx', 'Rapid', 'AliyevSeyfulla', 1791, 'NJ1975', 1966, 'd4,d5,c4,c6,Nf3,Nf6,g3,Bf5,Bg2,e6,O-O,h6,Nbd2,Bd6,b3,O-O,Bb2,Nbd7,Nh4,Bh7,f3,e5,dxe5,Nxe5,e4,dxc4,Nxc4,Nxc4,bxc4,Be7,f4,Nxe4,Qxd8,Raxd8,Rfe1,Bxh4,Bxe4,Bxe4,Rxe4,Bf6,Bxf6,gxf6,Re7,Rb8,Rb1,b5,cxb5,cxb5,Rxa7,Rfd8,Ra5,b4,Ra4,Rd2,a3', 'b3,f5,b2', 'https://lichess.org/training/1gvRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1gwgV', 'Blitz', 'behruzahmet', 1758, 'Dolaus', 1772, 'e4,c5,Nf3,d6,Bc4,e5,d3,Be6,Bxe6,fxe6,Ng5,Nf6,Nxe6,Qe7,Ng5,Nc6,Nc3,O-O-O,O-O,Nd4,Nf3,h6,a3,g5,b4,Kb8,Nxd4,cxd4,Ne2,h5,c4,dxc3,Bxg5,Bh6,Bxh6,Rxh6,Nxc3,Rg8,f4,Qg7,Rf2,exf4,Qd2,Ng4,Rxf4,Rg6,Raf1,Ne3,Qxe3', 'Rxg2+,Kh1,Rxh2+,Kxh2,Qg2#', 'https://lichess.org/training/1gwgV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1gXMt', 'Rapid', 'Darragh1234', 2106, 'Hazdiuk', 2033, 'Nf3,d5,d4,g6,Nc3,Bg7,Bf4,c6,e3,Bd7,Be2,Na6,a3,Nc7,h4,Ne6,Be5,f6,Bg3,h5,Qd3,Kf7,Nd1,Nh6,Bh2,Nf5,c4,Nc7,Rc1,Re8,Bxc7,Qxc7,cxd5,Qa5+,Qc3,Qxc3+,Nxc3,e6,dxc6,Bxc6,O-O,Bxf3,Bxf3,Nxh4,Bxb7,Rab8,Bc6,Rec8,Bb5,Nf5,Bd3,Rxb2,Bxf5,gxf5,Na4,Rxc1,Nxb2,Rxf1+,Kxf1,Bf8,Ke2,Bxa3,Nc4,Bb4,Kd3,a5,Nb2,e5,Kc4,Ke6,Kb5,Kd5,dxe5,fxe5,Nc4,h4,Nb2,Ke4,Kc4,Be1,Nd1,a4', 'f3#', 'https://lichess.org/training/1gXMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Gyjd', 'Rapid', 'Mard-Bozorg', 1702, 'renezent', 1721, 'd4,Nf6,c4,e6,a3,b6,Nc3,Bb7,Bf4,a6,Nf3,d6,Qc2,Nbd7,e4,Be7,Bd3,c5,d5,e5,Bg5,h6,Bh4,Nh5,Bxe7,Qxe7,O-O,Nf4,Ne2,Nxd3,Qxd3,Nf6,Qb3,b5,cxb5,O-O,bxa6,Bxa6,Qe3,Ng4,Qd2,f5,b4,Bxe2,Qxe2,fxe4,Nd2,cxb4,Qxg4,bxa3,Nxe4,Rf4,Qe2,a2,Nc3,Qg5,Rxa2,Raf8,Ne4,Qg6,Ra3,Rxe4,Qc2,Rg4,Qxg6,Rxg6,Rg3,Rgf6,h3,Rc8,Re1,Rc2,f3,Rd2,Re4,Rxd5,Reg4,g5,h4,Rf4,hxg5,Rxg4,Rxg4,hxg5,Rxg5+,Kf7,Kf2,Kf6,Rg4,Kf5,Ke3,Rd1,Ra4,Rg1,Kf2,Rd1,g4+,Kg5,Ra6,d5,Ra5,Kf4,Ra4+,d4,Ke2,Rh1,Ra7', 'Rh2+,Kd3,Kxf3', 'https://lichess.org/training/1Gyjd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1h0ro', 'Rapid', 'marbo', 2247, 'Sorin_256', 2228, 'e4,c5,Nf3,d6,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,O-O,Nf6,Qe2,Be7,Rd1,e5,h3,O-O,Bg5,Be6,Nb5,a6,Bxf6,Bxc4,Qxc4,axb5,Bxe7,bxc4,Bxd8,Rfxd8,a3,b5,Rac1,Na5,Rd5,Nb3,Rcd1,c3,bxc3,Nc5,Nxe5,Nxe4,R1d3,Rxa3,Rxb5,Ra1+,Kh2,Nxf2,Rxd6', 'Rh1+,Kg3,Ne4+', 'https://lichess.org/training/1h0ro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1h5IW', 'Rapid', 'mikegriffin', 1894, 'natalia2215', 1763, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Bf5,Nf3,e6,Bd2,c6,Ne4,Qc7,Ng3,Bg6,Bc4,Nf6,h4,h6,h5,Bh7,Be3,Nbd7,Qd2,Be7,Bf4,Qb6,O-O-O,O-O,Ne5,Rad8,Rhe1,a5,f3,Nxe5,Bxe5,Nd5,Ne4,a4,a3,Rfe8,g4,Bxe4,fxe4', 'Bg5,Qxg5,hxg5', 'https://lichess.org/training/1h5IW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1H6qN', 'Rapid', 'MertesAlexandr', 1664, 'Mine-antipersonnel', 1721, 'd4,Nf6,c4,g6,Nf3,d5,cxd5,Nxd5,Nc3,Nxc3,bxc3,Bg7,e4,O-O,Be2,c5,O-O,Nc6,Bb2,b6,d5,Ne5,Qc2,Qc7,Nxe5,Bxe5,g3,Bh3,Rfe1,Rad8,f4,Bd6,e5,Bxe5,fxe5,Qxe5,c4,Qe3+,Kh1,Bf5,Qc3', 'Be4+,Bf3,Bxf3#', 'https://lichess.org/training/1H6qN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1H97g', 'Blitz', 'Rafieamir55', 1721, 'baldas', 1686, 'e4,c6,c4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Be3,Ngf6,c5,Nxe4,Bd3,Nef6,Qc2,Be7,Nf3,b6,b4,a5,b5,Bb7,bxc6,Bxc6,Ne5,Bxg2,Rg1,Bd5,c6,Rc8,cxd7+,Qxd7,Qd2,Qb7,Bb5+,Kf8,Bg5,Ne4,Bxe7+,Qxe7,Qe3,Qb4+,Ke2,Qxb5+,Kd1,Nc3+,Kd2,Qb2+,Ke1,Qb4,Qd2,Ne4,Nd7+,Ke7,Qxb4+,axb4,Nxb6,Rc2,f3,Nc3,Nxd5+,Nxd5,Rxg7,h5,a4,bxa3,Rxa3,Rxh2,Ra7+,Kf6', 'Raxf7#', 'https://lichess.org/training/1H97g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1hcNw', 'Rapid', 'absmindprof', 1842, 'ICTEA', 1844, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Nc6,Ng5,Qf6,Nxf7,Bc5,O-O,Rf8,Bg5,Qg6,Qd5,d6,Be3,Ne7,Qd2,Rxf7,Bxf7+,Qxf7,Bxc5,dxc5,Rad1,Be6,f4,Nc6,fxe5,Rd8,Qe2,Rxd1,Qxd1,Qg6,Qf3,Qf7,Qe3,Qe7,Qe4,Bg8,a3,Qxe5', 'Qxe5+,Nxe5,Re1', 'https://lichess.org/training/1hcNw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1hE0e', 'Rapid', 'Edinedin', 1742, 'ebensmith1', 1670, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,Bg5,Be7,e3,Nbd7,cxd5,cxd5,Bd3,Bb4,Rc1,h6,Bh4,Qa5,O-O,Bxc3,Rxc3,O-O,Bb1,Ne4,Qd3,Ndf6,Nd2,Nxc3,bxc3,g5,e4,gxh4,e5,Ne4,Nxe4,dxe4,Qxe4,Rd8,Qh7+,Kf8,Qxh6+,Ke8,Qh8+,Kd7,Qf6,Rf8,d5,Qxd5,Bc2,Ke8,Rd1,Qa5', 'Ba4+,b5,Bxb5+,Qxb5,Rd8#', 'https://lichess.org/training/1hE0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1HIEI', 'Blitz', 'AnkitDeo', 1585, 'bulletmark', 1568, 'e4,e5,Bc4,Nf6,Nf3,d6,d4,exd4,Qxd4,Be7,O-O,a6,e5,dxe5,Qxe5,O-O,Bg5,Nc6,Qg3,Ne4,Bxe7,Qxe7,Qf4,Nd6,Re1,Qd8,Rd1,Bd7,Bb3,Ne7,Nc3,Ng6,Qd2,Qf6,Re1,Bg4,Nd4,Rad8,h3,Bf5,g4,Bc8,Rad1,Nf4,Nd5,Nxh3+,Kg2,Qh4,Re3,Ng5,Rh1,Qxg4+,Rg3,Qe4+,Kg1,Nf5,Qxg5,Rxd5,Nxf5', 'Rd1+,Kh2,Rxh1#', 'https://lichess.org/training/1HIEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1HjNL', 'Classical', 'KIT08', 1854, 'dheitkam', 1903, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,O-O,Bd3,h6,Bh4,Re8,Nge2,Ne4,Bxe7,Rxe7,O-O,Bf5,Bxe4,Bxe4,Qb3,b6,Rfd1,c6,Rac1,Qd6,Ng3,Bg6,Qa4,Nd7,b4,Ree8,b5,c5,dxc5,Nxc5,Rxd5', 'Qxd5,Nxd5,Nxa4', 'https://lichess.org/training/1HjNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1hN3o', 'Blitz', 'AliJradi', 1617, 'robboss21', 1895, 'e4,e5,Nc3,Nc6,Bc4,Nf6,Nf3,Bc5,O-O,d6,d3,h6,Na4,Bb6,Nxb6,axb6,Bb3,O-O,c3,Be6,Bc2,d5,exd5,Nxd5,a3,f5,Re1,Qf6,d4,e4,Nd2,Nce7,Nf1,Ng6,f3,Nh4,fxe4,fxe4,Bxe4,Qf2+,Kh1,Rf6,Ng3,Raf8,Bd2,Bg4,Qxg4,Qxd2,Bxd5+,Kh8,Nh5', 'Qxe1+,Rxe1,Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/1hN3o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1hqCD', 'Rapid', 'TKSBHMBenTicola', 1921, 'TKSBHMMikeyAdair', 1730, 'e4,e5,Qf3,a6,Bc4,Nf6,g4,b5,Bb3,c5,g5,c4,gxf6,cxb3,axb3,gxf6,Nh3,d5,exd5,Bxh3,Qxh3,Qxd5,O-O,Bc5', 'Qc8+,Qd8,Qxc5', 'https://lichess.org/training/1hqCD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1hQdg', 'Rapid', 'Dm_Sin', 1873, 's3ntin3l', 1886, 'e4,c6,b3,d5,exd5,cxd5,Bb2,Nc6,Nf3,Nf6,Bb5,Bd7,Bxc6,Bxc6,Bxf6,exf6,Qe2+,Be7,Nd4,Bd7,Nc3,Be6,Nxe6,fxe6,Qxe6,Rc8,d4,Rxc3,O-O-O,Qd6,Qxd6,Bxd6,Rhe1+,Be7,Re3,Rxe3,fxe3,Ba3+,Kb1,O-O,c4,dxc4,bxc4,Rc8,c5,Re8,Rd3,Bb4,Kc1,Rd8,Kc2,Bxc5,dxc5,Rxd3,Kxd3,Kf7,Kc4,Ke7,a4,Kd7,Kb5,Kc7,a5,a6+,Kc4,Kc6,e4,g5,g4,h6,h3,Kc7,Kd5,Kd7,e5', 'fxe5,Kxe5,Kc6,Kf5,Kxc5', 'https://lichess.org/training/1hQdg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1hqKE', 'Rapid', 'Esmail57', 1896, 'AmadeuZ1967', 1777, 'd4,d5,c4,c6,e3,Nf6,Nc3,Bf5,Qb3,b6,cxd5,Nxd5,Nxd5,Be6,e4,cxd5,Bb5+,Bd7,Qxd5,Bxb5,Qxb5+,Nd7,Nf3,a6,Qd5,e6,Qb3,a5,O-O,Be7,d5,Nc5,Qc4,exd5,exd5,O-O,Be3,Rc8,Rad1,Bf6,b3,Re8,Bxc5,Rxc5,Qd3,Qd6,h3,Rd8,Qa6,Rxd5,Rxd5,Qxd5,Qxb6,Bd4,Nxd4,Qxd4,Qxa5,g6,b4,Rd5,b5,Rg5,Qa8+,Kg7,a4,Qd7,Kh1,Qd3,Rg1,Qd4,f3,Qd7,Qc6,Qf5,b6,Rh5,Qc3+,Kh6,Qe3+,Kg7,f4,Rh4,Rf1,g5,g4,Qd5+,Qf3', 'Rxh3+,Kg2,Rxf3', 'https://lichess.org/training/1hqKE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1HRJK', 'Classical', 'Peter_Koch', 1755, 'Dork2', 1814, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nf5,a6,Bc4,Nf6,Qf3,e6,Ng3,Ne5,Qb3,b5,Bd3,Be7,O-O,O-O,Nd2,h5,f4,Qb6+,Kh1,Neg4,h3,h4,Ne2,Nf2+,Kh2,Nh5,Nc4,Qc7,Rxf2,bxc4,Bxc4,Rfc8,Bd3,Qa7,Rf3,Be8,Be3,Qd7,c3,d5,e5,a5,a3,a4,Qc2,Rcb8,f5,Qc7,Bd4,exf5,Bxf5,Bf6,Kg1,Be7,Bh7+,Kh8,Bf5,Bc5,e6,fxe6,Bxe6,Bb5,Qg6,Bxd4+,Nxd4,Nf6,Qg5,Be8,Qxh4+,Nh5,Rf8+,Kh7,Bf5+,g6,g4,Qg3+,Qxg3,Nxg3,Be6,Ne4,Bxd5,Bc6,Bxc6,Rxf8,Bxe4,Rae8,Bc6,Re3,Bxa4,Rxh3,Kg2,Rh4,Kg3,Rh6,g5,Rh5,Kg4,Re8,Rf1,Re5,Rf7+,Kg8,Bb3,Rhxg5+,Kf3,Kh8,Rf8+,Kh7,Bg8+,Kh6,Bb3,Rg1,Rh8+,Kg5,Bc2,Rf1+,Kg2,Rf4,Nf3+,Rxf3,Kxf3,Re6,Rb8,Kf6,Be4,g5,Bd5,Re5,c4,Kf5,Rf8+,Kg6,Kg4,Re1,Rg8+,Kf6,Rxg5,Rg1+,Kf4,Rxg5,b4,Rf5+,Ke4,Re5+,Kd4,Re7,a4,Ra7,a5,Ke7,Kc5,Kd8,Kb6,Rd7,a6,Rd6+,Ka5,Kc7,b5,Kb8,Bb7,Ka7,c5,Rf6,b6+,Kb8,a7+,Kxb7,Kb5,Re6,Kc4,Re8,Kd5,Rd8+,Kc4,Kc6,Kb4,Rc8,Kc4,Kb7,Kb5,Ka8,c6,Re8', 'Ka6,Re7,b7+,Rxb7,cxb7#', 'https://lichess.org/training/1HRJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1hsvR', 'Blitz', 'Migliorenzo', 1752, 'Cafer56', 1764, 'Nf3,Nf6,d4,d6,c4,Bf5,Nc3,Nbd7,Bf4,Nh5,Bg5,h6,Bd2,e5,e4,Bh7,d5,f5,Nxe5,Nxe5,Qxh5+,Bg6,Qd1,fxe4,Be2,Qf6,Bh5', 'Nd3+,Kf1,Qxf2#', 'https://lichess.org/training/1hsvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1HuJS', 'Rapid', 'bh140', 1890, 'JulayE3', 1781, 'e4,Nc6,d4,e5,Nf3,exd4,Nxd4,Nf6,e5,Nxe5,Bg5,h6,Bf4,Bd6,Qe2,Qe7,Bg3,c5', 'Nf5,Nd3+,cxd3', 'https://lichess.org/training/1HuJS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Hv72', 'Rapid', 'sotirakis', 2358, 'Crypton98', 2331, 'e4,e5,Bc4,Nf6,d3,Nc6,Nc3,Bc5,f4,d6,Nf3,h6,h3,a6,Rf1,Nd4,fxe5,Nxf3+,Qxf3,dxe5,Nd5,Be7,Bd2,c6,Nxe7,Qxe7,O-O-O,b5,Bb3,a5,a4,bxa4,Bxa4,Bd7,g4,Rb8,c3,c5,Bxd7+,Qxd7,Qf5,Qxf5,Rxf5,Nd7,d4,cxd4,cxd4,a4,dxe5,Nc5,Bc3,O-O,e6,Nxe6,Ra5,Ra8,Rd6,Rxa5,Bxa5,Rc8+,Kb1,Rc4,e5,Rc5,Bc3,a3,Bb4,Rxe5,bxa3,Re3,a4', 'Rb3+,Ka2,Rxb4', 'https://lichess.org/training/1Hv72');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1HWQe', 'Rapid', 'Board5', 1987, 'punisherop', 2063, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c4,Nc6,Be3,Nf6,Nc3,O-O,Be2,d6,O-O,Bd7,f3,Nxd4,Bxd4,Bc6,Nd5,e5,Be3,a6,Bb6,Qd7,Qd2,Nxd5,cxd5,Bb5,Rfc1,Rac8,Bxb5,Qxb5,Bc7', 'Rxc7,Rxc7,Qb6+,Kh1,Qxc7', 'https://lichess.org/training/1HWQe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1I23D', 'Rapid', 'hhlb', 1761, 'Mahmoudmslm', 1735, 'd4,b6,c4,Bb7,Nc3,e6,Nf3,Bb4,a3,Bxc3+,bxc3,d5,e3,Nc6,cxd5,exd5,Bb5,Qf6,Ne5,O-O-O,Qg4+,Kb8,Nd7+,Rxd7,Qxd7,Nge7,O-O,h5,c4,dxc4,Bxc4,h4,h3,g5,f3,Na5,Qb5,a6,Qe5', 'Qxe5,dxe5,Nxc4', 'https://lichess.org/training/1I23D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1i23n', 'Classical', 'DmitriiyFedotov', 1640, 'NotAHuman', 1616, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,c4,dxc4,Bxc4,Nd7,a3,c5,d5,Nb6,Qb3,exd5,Bb5+,Bd7,Nc3,d4,Ne4,a6,Nfg5,Nh6,Bc4,Nxc4,Qxc4,Be7,h4,b5,Qd5,Be6,Nxe6,fxe6,Qxe6,Nf7,Bg5,h6,Bxe7,Qxe7,Qc6+,Qd7,Qxa8+,Ke7,Qxa6,Qg4,Qb7+,Ke6,O-O,Nxe5,Rae1', 'Nf3+,Kh1,Qxh4#', 'https://lichess.org/training/1i23n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1i5MO', 'Rapid', 'anmac', 2030, 'Dr-Xerxes-Ragnar', 2032, 'e4,e5,f4,d5,exd5,e4,d3,Qxd5,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nf6,Bxf6,gxf6,dxe4,Qxe4+,Qe2,Qxe2+,Bxe2,Rg8,g3,Be6,O-O-O,Nd7,b3,O-O-O,Nf3,Nc5,Rxd8+,Rxd8,Rd1,Re8,Nd4,Bd7,Bf3,a5,Rd2,Re1+,Rd1,Re7,Rd2,f5,Re2,Ne4,g4,Re8,Nxf5,Bxf5,gxf5,Nf6,Rxe8+,Nxe8,Bh5,Nd6,f6,Kd7,Bg4+,Ke8,Bf3,b6,Kd2,Kd7,Kd3,Ke6,Kd4,Kxf6,Kd5,Nf5,c3,Ne7+,Kc4,Kf5,Bh5,f6,Kb5,Kxf4,Ka6,Ke5,Kb7,Kd6,b4,axb4,cxb4,Nd5,a3,f5,Bf3,Ne3,a4,h6', 'a5,bxa5,bxa5,Nc4,a6', 'https://lichess.org/training/1i5MO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1IBnG', 'Blitz', 'Supercourgette', 2141, 'MasterMB', 2088, 'e4,e5,f4,exf4,Nf3,g5,Nc3,g4,Ne5,Qh4+,g3,fxg3,Qxg4,g2+,Qxh4,gxh1=Q,Qh5,Nh6,d4,d6,Bxh6,dxe5,O-O-O,Bxh6+,Qxh6,Qf3,Nd5,Na6,dxe5,c6,Nf6+,Ke7,Bxa6,bxa6,Nxh7,Rxh7', 'Qd6+,Ke8,Qd8#', 'https://lichess.org/training/1IBnG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1idUu', 'Rapid', 'withoutTroble', 1804, 'Rostfrei', 2134, 'e4,Nf6,Nc3,e5,Bc4,Bb4,Nge2,O-O,a3,Be7,d3,d6,h3,c6,O-O,Nbd7,Bg5,h6,Bh4,Nh7,Bg3,Kh8,f4,f5,fxe5,Nxe5,Bxe5,dxe5,exf5,Bxf5,b4,Ng5,Ng3,Qd4+,Rf2,Bd7,Nce4,Bxh3,Qf1,Bg4,Kh2,Rxf2,Nxf2,Rf8,Nge4,Bh5,Qe1,Nxe4,Nxe4,Rf4,c3,Rh4+', 'Qxh4,Bxh4,cxd4', 'https://lichess.org/training/1idUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1IkFV', 'Rapid', 'alesya19', 1620, 'DenWalker', 1714, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Nc6,d5,exd5,Bxd5,Nce7', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/1IkFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1inAe', 'Classical', 'MightyHades', 1700, 'abolil', 1723, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Re1,Bc5,c3,O-O,d4,exd4,cxd4,Bb6,Nc3,d6,Qb3,Bg4,Nd5,Bxf3,Qxf3,Nxd5,Bxd5,Nxd4,Qc3,c6,Bb3,Qh4,Be3,Nxb3,Qxb3,Bxe3,Qxe3,b6,a3,Rfe8,f3,Re5,g3,Qe7,Re2,d5,Rae1,Rd8,Qc3,c5,f4,Rxe4,Rxe4,dxe4,b4,Rd3', 'Qxd3,exd3,Rxe7', 'https://lichess.org/training/1inAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1IocB', 'Classical', 'mili1991', 1690, 'Dureks', 1662, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,Bb3,Nxe4,Nxe4,dxe4,Nc3,f5,a3,Nd4,Ba2,Bc5,d3,Be6,Bxe6,Nxe6,dxe4,Nd4,exf5,O-O,Qd3,Nxf5', 'Qc4+,Kh8,Qxc5', 'https://lichess.org/training/1IocB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1iRDI', 'Classical', 'Richi1998', 1797, 'remyfa', 1776, 'e4,c6,Nc3,d5,exd5,cxd5,Bb5+,Nc6,Qf3,Nf6,d3,Bg4,Qg3,e6,Bg5,Bd6,Bxf6,Bxg3,Bxd8,Bxf2+,Kxf2,Rxd8,Nf3,O-O,Ng5,Nd4,Rac1,a6,Ba4,b5,Bb3,Rc8,Ke3,Nf5+,Kf4,Bh5,g4,h6,Nf3,g5+,Ke5,Bxg4,Rhf1,Rce8,Nd4', 'f6#', 'https://lichess.org/training/1iRDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1iTf5', 'Rapid', 'Doud23', 1672, 'f1bookkor', 1702, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,f6,Qb3,Nd4,Qa4,Ne7,c3,Ndc6,Qb3,d5,exd5,Nb8,d6,cxd6,Bf7+,Kd7,Qe6+,Kc7,Qc4+,Nbc6,Na3,a6,b4,Kb8,b5,Na5,Qb4,Qb6,d3,Nf5,Bc4,d5,Bxd5,Bxb4,cxb4,Qd6,Be4,Qxb4+,Kf1,Qd4,Rb1,Nd6,Ne2,Qc5,bxa6,Nxe4,dxe4,Rxa6,Nb5,Rd8,Ke1,Qc2,Nbc3,Rc6,Rb2,Qa4,Nxa4,Rxc1+,Nxc1,Nc4,Rb4,Rd4,f3,Bd7,Nb6,Nxb6,Rxb6,Ba4,Kf2,Rd2+,Kg3,f5,exf5,gxf5,Re1,f4+,Kg4,Bd7+,Kh4,Rxg2,Rh1,h6,Rxh6,Rf2,Rh8+,Kc7,Nd3,Rxf3,Rc1+,Kd6,Rh6+,Be6,Nb4,Rh3+,Kg5,Re3,Rd1+,Ke7,h4', 'Rg3+,Kh5,Bf7+', 'https://lichess.org/training/1iTf5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Itfb', 'Rapid', 'ThomasMcKeown98', 1716, 'mtnakgul', 1752, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,O-O,Nc6,c3,Nf6,cxd4,O-O,Nc3,Bg4,h3,Bxf3,Qxf3,Nxd4,Qg3,Kh8,Be3,Ne6,Rad1,Qc8,f4,c6,e5,dxe5,fxe5,Nd7,Ne4,Bc5,Rxd7', 'Bxe3+,Qxe3,Qxd7', 'https://lichess.org/training/1Itfb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1iUF4', 'Blitz', 'Zolotenkov_Vasilij', 1992, 'Together74', 2360, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nc3,Be7,Nf3,O-O,Bd3,Bf6,Be3,Bg4,O-O,Nc6,d5,Ne5,Be2,Bxf3,gxf3,Nbxc4,Bxc4,Nxc4,Kh1,Qd7,Rg1,Qf5,Qe2,Nxe3,fxe3,Bxc3,bxc3,Qxd5,e4,Qe5,Qc4,Rac8,Rg4,g6,Rag1,Kh8,f4,Qe6,Qd4+,Kg8,f5,Qe5,fxg6,hxg6,Qe3,Kg7,Rg5,Qe6,Qd4+,Kh7', 'Rh5+,gxh5,Qg7#', 'https://lichess.org/training/1iUF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1IuKX', 'Rapid', 'natik1069', 1809, 'zakwipo', 1810, 'd4,b6,Bf4,Bb7,e3,e6,Nf3,Nf6,Nbd2,Bd6,Bxd6,cxd6,Nc4,Qe7,c3,O-O,Bd3,Nc6,e4,e5,d5,Nd8,Ne3,a6,Nf5,Qe8,Nxd6,Qe7,Nf5,Qe8,Qd2,Ne6,dxe6,dxe6,N5h4,h6,O-O-O,Qa4,Kb1,b5,Nxe5,Rfd8,Qe3,Bxe4,Bxe4', 'Rxd1+,Rxd1,Qxd1+,Qc1,Qxc1+,Kxc1,Nxe4', 'https://lichess.org/training/1IuKX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1IVek', 'Rapid', 'oscarleon', 1892, 'Gitin', 1817, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,c6,d3,Nf6,h3,Bf5,Nf3,Qa5,Bd2,Qc7,a3,Nbd7,Nd4,Bg6,g3,O-O-O,Bf3,Qe5+,Nde2,Nb6,Bf4,Qe6,Qc1,Nbd5,Nxd5,Nxd5,Qd2,Nxf4,Qxf4,Qd7,O-O-O,f6,Qa4,Kb8,Nc3,e6,Rhe1,e5,h4,Bf7,Bg4,Be6,Bxe6,Qxe6,f4,Rd4', 'Qxd4,exd4,Rxe6', 'https://lichess.org/training/1IVek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1IWAq', 'Blitz', 'TeliTmas', 2585, 'IM KamranShirazi', 2538, 'e4,e5,Nc3,d5,exd5,Nf6,Nf3,Bc5,Nxe5,O-O,d4,Re8,h3,Nxd5,Be2,Bb4,Bd2,f6,Nxd5,Bxd2+,Qxd2,Qxd5,Nf3,Qb5,c3,Bf5,a4,Qa6,b4,Qc4,Ne5,Qb3,Nd3,Nc6,O-O,Rxe2,Qxe2,Qxc3,Nf4,Nxd4,Qa2+,Kh8,Rfc1,Qxb4,Rc4,Qd6,Qd2', 'Nf3+,gxf3,Qxd2', 'https://lichess.org/training/1IWAq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1IWKC', 'Classical', 'cammy41', 1869, 'Rhinelaender', 1846, 'd4,Nf6,Nc3,d5,Bf4,a6,e3,Nc6,Nf3,Bg4,Be2,e6,h3,Bxf3,Bxf3,Bb4,a3,Bxc3+,bxc3,O-O,Be2,Ne4,c4,Nc3,Qd3,Nxe2,Qxe2,Na5,cxd5,Qxd5,O-O,c6,Qg4,g6,Bh6,Rfe8,Qf4,f5,Qg5,Qd8,Qf4,Qf6,Bg5,Qf7,Qe5,Nc4,Qc5,Nd2,Qe5,Nxf1,Kxf1,Rac8,Rb1,Rb8,Bf6,Rf8,Bh8,Rfd8,Ke2,Rbc8,c4,Rd7,Bf6,Rf8,Bg5,Re8,Qc5,Qf8,Qxf8+,Kxf8,Bf4,Kf7,Rb6,Kf6,h4,Red8', 'Bg5+,Kf7,Bxd8', 'https://lichess.org/training/1IWKC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1j1Gr', 'Rapid', 'Vadik10', 1983, 'gavs_68', 1973, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,Bc5,c3,Nxe4,Bd5,Nf6,Bxc6,dxc6,Nxe5,Bb7,d4,Bd6,Re1,O-O,Bg5,h6,Bh4,Re8,Qf3,g5,Bg3,Bxe5,dxe5,Nd5,Na3,c5,Rad1,Qc8,Rxd5,Qe6,Red1,Rad8,Rxd8,Bxf3,Rxe8+,Qxe8,gxf3,Qc6,Rd3,c4,Re3,Qd5,Re1,Qd2,Rb1,Qd3,Kg2,a5,Re1,b4,Re3,Qd5,cxb4,axb4,Nc2,c5,Re4,Qd3,Ne3,c3,bxc3,Qxc3,Rc4,Qb2,Rxc5,Qxa2,Rc8+,Kg7,Nf5+,Kg6,Ne7+,Kg7,Rc6,b3,Nf5+,Kh7,Rxh6+,Kg8,Rb6,b2,Rb8+,Kh7,Nd6,b1=Q,Rxb1,Qxb1,Nxf7,Kg6,Nd6,Qd3,e6,Qe2,Ne4', 'g4,Nd2,Qxd2', 'https://lichess.org/training/1j1Gr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1j5oe', 'Blitz', 'iamletmethink', 2253, 'PeterChaplin', 2232, 'd4,e6,Nf3,d5,Bg5,Be7,Bxe7,Qxe7,c3,c5,e3,Nc6,Bd3,e5,dxe5,Nxe5,Nxe5,Qxe5,Bb5+,Kf8,Nd2,Nf6,Nf3,Qe7,O-O,a6,Bd3,Bg4,h3,Bh5,Re1,Rd8,Be2,Ne4,Qb3,Bxf3,Bxf3,Nd2,Qd1,Nxf3+,Qxf3,g6,Rad1,Qg5,Rd2,Kg7,Red1,d4,exd4,cxd4,Rxd4,Rxd4,Rxd4,Re8,Rd7,Re7,Qxb7', 'Qc1+,Kh2,Qf4+,g3,Qxf2+,Qg2,Qxg2+,Kxg2,Rxd7', 'https://lichess.org/training/1j5oe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1J5Pl', 'Rapid', 'usersenan', 1754, 'Osssi', 1778, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,h3,Bc5,c3,d6,a4,a5,Nh2,O-O,O-O,Re8,Qf3,Be6,Bxe6,Rxe6,Qg3,Ne7,Bxh6', 'Nh5,Qg5,Rxh6', 'https://lichess.org/training/1J5Pl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1j5UI', 'Rapid', 'apostrov13', 1702, 'nottomention', 1789, 'e4,c5,Nf3,d6,c3,Nc6,Bb5,Bd7,d4,cxd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,Bg5,e5,Qc4,Rc8,Qb3,Nxe4,Bh4,b6,f3,Nc5,Qd5,Qf5,O-O,h6,Nd2,g5,Bg3,Be7,b4,Na6', 'Qb5+,Kf8,Qxa6', 'https://lichess.org/training/1j5UI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1J7oM', 'Blitz', 'Maxy202019', 1849, 'shiv2596', 1845, 'e3,d5,Be2,Nc6,b3,e5,Bb2,d4,d3,f6,e4,Be6,Nf3,Bd6,Nbd2,Qe7,a3,Nh6,O-O,Nf7,h3,h5,Nh4,g5,Ng6,Qd7,Nxh8,O-O-O,Nxf7,Qxf7,Bxh5,Qg7,Nc4,Kb8,Nxd6,Rxd6,f3,f5,Bc1,f4,Qe2,Ne7,c4,Ng6,a4,Qh6,Bg4,Bf7,Ba3,Rd8,c5,Nh4,b4,c6,b5,cxb5,axb5,Rd7,Qa2,Bxa2,Rxa2,Rd8,Rfa1,Ng6,c6,b6,Bb4,a5,bxa6,Kc7,a7,Ra8,Bd7,Nh8,Rb1,Nf7,Ra6,Nd8,Be7,Nxc6,Bxc6,Qxc6,Rbxb6,Qc1+,Kh2,Qe1,Rc6+,Kd7,Bxg5,Qg3+,Kg1,Qxg5,Rd6+,Kc7,Rh6,Kb7,Rhb6+,Kc7,Kh2,Rxa7,Rc6+,Kb7', 'Rab6+,Ka8,Rc8#', 'https://lichess.org/training/1J7oM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1jAT9', 'Blitz', 'PawnPushAndFail', 1717, 'Always_improving', 1713, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,a3,a5,h3,g5,d3,g4,hxg4,Bxg4,Nc3,Nd4,Bxf7+,Kf8,Bg5,Qd7,Qd2,Bxf3,Bh6+,Nxh6,Qxh6+,Kxf7,gxf3,Rhg8+,Kh1,Rg7,Rg1,Rag8,Rxg7+,Rxg7,Rg1,Rxg1+,Kxg1,Nxf3+,Kg2,Nd4,Qxh7+,Ke8', 'Qg8+,Ke7,Nd5#', 'https://lichess.org/training/1jAT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1JCmp', 'Blitz', 'Postmannen', 1808, 'DrMaque', 2047, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kf1,Qe7,Nxh8,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Bg4,Qxf2,cxb5,Nc3,O-O-O,Nxb5,Ne4,Nxa7+,Kb7,Qe3,Rf8+,Kg1,Nc5,h3,Nc4,Qc3,Be2,Qb4+,Kxa7,d3,e4,dxc4,Rf1+,Kh2,Qe5+,g3', 'Rf2+,Kg1,Qxg3#', 'https://lichess.org/training/1JCmp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1JCZZ', 'Blitz', 'Atar42', 1704, 'asasarkaya', 1959, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,h6,h3,O-O,Be3,Bb6,Qd2,d6,O-O,Be6,Nd5,Nd4,Nxb6,Nxf3+,gxf3,axb6,Kh2,Bxc4,dxc4,Qd7,Rg1,Nh5,Bxh6,f5,Qg5,Kh7,Qxh5,gxh6,Qg6+,Kh8,Qxh6+,Qh7,Qxd6,Rae8,Qg6,fxe4,Rg3,Qxg6,Rxg6,Rxf3,Rf1,Ref8,Kg2,R8f5,Re6,e3,Re8+,Kg7,Re7+', 'Kf6,Re8,Rxf2+,Rxf2,Rxf2+', 'https://lichess.org/training/1JCZZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1JeBO', 'Blitz', 'howdouplaythis', 1654, 'radaellipietro', 1637, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,Qd7,O-O,Nc6,d3,Nd4,Be3,Bxf3,gxf3,Ne6,Kg2,Nf6,Rg1,Nf4+,Kf1,O-O-O,Bxf4,exf4,d4,Qh3+,Rg2,Ng4,fxg4,f3,Qd3,fxg2+,Kg1,Qxd3,cxd3,f6,Be6+,Kb8,d5,Re8,Kxg2,Be7,a4,c6,b4,Kc7,b5,cxd5,exd5,b6,Rc1,Kb7,Na2,g6,Nb4,h5,h3,hxg4,hxg4,Rh4,f3,Reh8,Na6,Rh2+,Kg3,R2h3+,Kf4,Bd8,Bc8+,Ka8,g5,fxg5+,Ke3,g4,Bxg4,Rh1', 'Rc8+,Kb7,Rb8#', 'https://lichess.org/training/1JeBO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1jg4J', 'Blitz', 'Pooly', 2298, 'IM ChessExplained', 2603, 'Nf3,d5,c4,d4,e3,Nc6,exd4,Nxd4,Nc3,c6,Nxd4,Qxd4,d3,Nh6,Be3,Qd8,d4,Nf5,Be2,g6,Qd2,Bg7,Rd1,O-O,O-O,Nxe3,fxe3,e5,Kh1,exd4,exd4,Qe7,Bf3,Bf5,Rfe1,Qb4,Nd5,Qxc4,Ne7+,Kh8,Nxf5,gxf5,Qf4,Qb5,a4,Qa5,b4,Qxb4,Qxf5,Qd6,Be4,Qg6,Qc5,f5,Bc2,Rad8,Rf1,Rd5,Qe7,Qf7,Qe3,Rfd8,Qh3,Rf8,g4,Bxd4,Rxf5,Rxf5,Bxf5,Be5', 'Rd7,Qxd7,Bxd7', 'https://lichess.org/training/1jg4J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1JG8g', 'Rapid', 'Vladimir_F', 1817, 'Andrei_150', 1824, 'e4,g6,Nf3,Bg7,c3,e6,d4,Ne7,e5,d5,Ng5,h6,Nxf7,Kxf7,Qf3+,Kg8,Qg3,Kh7,Bd3,Nf5,Bxf5,exf5,O-O,Nc6,Nd2,Rf8,Nf3,g5,Bxg5,hxg5,Nxg5+,Kg8,e6,f4,Qg4,f3,Qh5,Qxg5,Qxg5,fxg2,Kxg2,Bxe6,Rae1,Rae8,h4,Rf5,Qg6,Rf6,Qg3,Kf7,Kh2,Rg8,Rg1,Ne7,Qxc7,Rxf2+,Kh1,Rh8,Rxg7+,Kxg7,Qg3+,Ng6,Qxf2,Rxh4+,Kg1,Rg4+,Kh2,Rf4,Qc2,Rh4+,Kg2,Bh3+,Kf2,Rf4+,Kg3,Bf5,Qb3,Rg4+,Kf3,Nh4+,Ke2,Re4+,Kd2', 'Nf3+,Kc1,Rxe1+', 'https://lichess.org/training/1JG8g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1jIET', 'Classical', 'Firebirdy', 1666, 'Aircan', 1679, 'd4,d5,Nf3,Bf5,e3,e6,Bd3,Nh6,O-O,Bd6,Ne5,Qh4,f4,Nc6,g3,Qh3,Bxf5,exf5,Qf3,Bxe5,dxe5,Ng4,Qg2,Qxg2+,Kxg2,Nb4,Na3,O-O,h3,Nh6,Rd1,c6,c3,Na6,b4,Nc7,Nc2,a5,a4,f6,exf6,Rxf6,g4,Rg6,g5,Nf7,Nd4,Nd6,Nf3,Ne4,Bb2,Nd6,Ne5,Re6,Rd3,Kf8,Rc1,axb4,cxb4,Rxa4,b5,Ncxb5,Nd7+,Ke7,Nb6,Ra2,Rd2,g6', 'Bf6+,Kf7,Rxa2', 'https://lichess.org/training/1jIET');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1jKAF', 'Rapid', 'Stefanxd', 1746, 'skeith73', 1792, 'e4,c6,d4,d5,exd5,cxd5,Nf3,a6,Nc3,Nc6,Bd3,Bg4,O-O,e6,h3,Bxf3,Qxf3,Nxd4,Qd1,Nf6,Be3,Bc5,Re1,Rc8,Bxh7,Rxh7,Bxd4,Be7,Rb1,Rh4,Bxf6,Bxf6,Ne2,Qb6,c3,Qd6,Qd3,Bd8,Qg3,Qxg3,Nxg3,Rf4,Nh5,Re4,Rxe4,dxe4,Nxg7+,Ke7,Re1,f5,Nh5,Bc7,b3,Rd8,g3,Bb6,Nf4,Rd2,Re2,Rd1+,Kg2,Kd6,c4,Bd4,h4,Bg7,h5,Ke7,Kh2,Kf6,Kg2,e5,Nh3,Rd8,Kf1,Ke6,Ke1,Bf6,Rd2,Rh8,c5,Rxh5,Rd6+,Ke7,Ng1,Rh8,Ne2,Rc8,b4,b6,a3,bxc5,Rxa6,cxb4,axb4,Bg5,b5,Rb8,Rg6,Bf6,Nc3,Ke6,b6,Rxb6', 'Rxf6+,Kxf6,Nd5+,Kg6,Nxb6', 'https://lichess.org/training/1jKAF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1jm5S', 'Rapid', 'fisherwasracist', 1730, 'Zlon1955-02', 1637, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qd6,Bc4,Bg4,Ne4,Qc6,Bxf7+,Kxf7,Nxe5+,Ke8,Qxg4,Qxc2,Qc8+,Ke7,Qf5,Nf6,Ng3', 'Qxf5,Nxf5+,Ke6', 'https://lichess.org/training/1jm5S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1JnsY', 'Rapid', 'iluvmydog', 1922, 'RobbertVijn', 1619, 'd4,d5,c4,Nf6,Nf3,g6,Nc3,c6,Bg5,Bg7,e3,O-O,Be2,Bg4,O-O,Bxf3,Bxf3,dxc4,Rb1,Nbd7,Qe2,Qa5,Qxc4,Qxg5,Qb4,Rfe8,Qxb7,c5,Bc6,Qf5,dxc5,Reb8,Qc7,Rc8,Qb7,Rcb8,Qxa8,Rxa8,Bxa8,Nxc5,Rfd1,Nfe4,Rd8+,Bf8,Rf1,Kg7,Rd4,e6,Bxe4,Nxe4,Rxe4,Be7,Rf4,Qa5,Ra4,Qb6,Rb1,Bf6,Ne2', 'Qb5,b3,Qxe2', 'https://lichess.org/training/1JnsY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1JQcA', 'Rapid', 'nizamhoca', 1906, 'farkhosh', 1668, 'd4,d5,e3,Bf5,c4,Nf6,Nc3,e6,Nf3,Bb4,Qa4+,Nc6,Ne5,Bxc3+,bxc3,O-O,Nxc6,bxc6,Qxc6,Ne4,cxd5,exd5,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/1JQcA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1JRsV', 'Rapid', 'Champagne72', 1894, 'Jhanver2', 1828, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Be3,Qb6,Nb3,Qc7,O-O,e6,c4,Be7,Nc3,O-O,Rc1,a6,Nd4,b5,b3,b4,Nce2,a5,Bb1,Bb7,f3,Ne5,Nb5,Qd7,Nf4,Rfc8,Qe2,a4,Rfd1,axb3,axb3,Qc6,Nd3,Qa6,Nxe5,dxe5,Bc2,Qc6,f4,Nxe4,fxe5,Nc3,Nxc3,bxc3,Rd4,Bc5,Bxh7+,Kxh7,Rh4+,Kg8,Bxc5,Qxc5+,Kh1,Qc6,Rg1,g6,Qe3,Ra1,Qg5,Rxg1+,Kxg1,Kf8', 'Rh8+,Kg7,Qf6#', 'https://lichess.org/training/1JRsV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1JS30', 'Blitz', 'Ortizchino', 2329, 'datadima', 2318, 'Nf3,Nf6,e3,d5,Be2,c6,O-O,Bf5,b3,Nbd7,Bb2,h6,c4,e6,d4,Be7,Nc3,a5,Na4,O-O,Rc1,Ne4,cxd5,exd5,Nd2,Nxd2,Qxd2,Be4,f3,Bb4,Bc3,Bxc3,Rxc3,Bg6,Bd3,Bxd3,Qxd3,Re8,Nc5,Nxc5,Rxc5,Qe7,Re1,Qe6,e4,Qg6,Qe3,dxe4,fxe4,Rad8,a4,b6,Rc4,Rd6,Qf4,b5,axb5,cxb5,Rc5,Rxd4,Rxb5,a4,bxa4,Rdxe4,Rxe4,Rxe4,Rb8+,Kh7,Qc1,Qe6,Qc2,g6,Rb1', 'Re1+,Kf2,Qe3#', 'https://lichess.org/training/1JS30');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1jsAo', 'Rapid', 'makhilesh931', 2108, 'vazelio', 2060, 'e4,e5,Nc3,Nc6,Bc4,Bc5,d3,d6,h3,h6,Nf3,Bd7,O-O,Qc8,Be3,Nf6,Bxc5,dxc5,Nd5,Be6,Nxf6+,gxf6,Bxe6,Qxe6,Qd2,O-O-O,a4,Rhg8,Kh2,Rg7,g3,Rdg8,Nh4,Ne7,b4,cxb4,Qxb4,f5,Rab1,b6,a5,f4,g4,h5,f3,hxg4,fxg4,Rh8,Nf5,Nxf5,exf5,Qh6,Rf3,Rxg4,Qe4,Qd6', 'Qa8+,Kd7,Qxh8', 'https://lichess.org/training/1jsAo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1JTIv', 'Rapid', 'masacreitorGeorge', 2005, 'IM Josetono', 2103, 'e4,c5,Nf3,g6,g3,Bg7,Bg2,Nc6,O-O,e6,d3,Nge7,Nc3,b6,Be3,O-O,Qd2,Nd4,Bh6,Bb7,Bxg7,Kxg7,Ne1,d5,e5,Nef5,Nd1,Nc6,f4,d4,c4,dxc3,bxc3,Qd7,Nf2,Rad8,Ne4,Na5,Qf2,Bxe4,dxe4,Ne7,g4,f6,exf6+,Rxf6,g5,Rf7,Bh3,Nc4,Ng2,Qc6,Qe2,b5,Rad1,Rff8,Bg4,Rd6,Rxd6,Nxd6,Bf3,Nc4,Rd1,e5,f5,Kh8,f6,Nc8,Ne3,Nxe3,Qxe3,Nd6,Rd5,Nf7,h4,c4,Qxa7,Qe6,Kg2,h6,Rd7,hxg5,hxg5,Nxg5', 'Rh7+,Nxh7,Qg7#', 'https://lichess.org/training/1JTIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1juzW', 'Blitz', 'wtfai', 2404, 'FM EdgarRodrigues', 2435, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,h4,Qa5,Bd2,Qa4,Qg4,Nbc6,Nf3,O-O,h5,f5,exf6,Rxf6,h6,g6,Qh4,Rxf3,gxf3,cxd4,cxd4,Qxd4,Qxd4,Nxd4,O-O-O,Nxf3,Bc3,Nc6,Bd3,Nfe5,Rdg1,d4,Bd2,Bd7,f4,Nxd3+,cxd3,Rf8,Kd1,Rf5,Ke2,Ne7,Rg5,Bc6,Rhg1,Kf7,R1g4,Rb5,Rxb5,Bxb5,Bb4,Nf5,Rg1,Ke8,Rc1,Kd7,Bf8,b6,Bg7,Bc6,Rc4,Bd5,Rc1,a5,Rb1,Kc6,Be5,Kb7,Rc1,Bc6,Rc4,b5,Rc1,Kb6,Bg7,Bd5,Rg1,b4,axb4,axb4,Rxg6,b3,Rg1,Kb5,Kd2,Kc6,Bf8,Kd7,Bg7,Ke7,Be5,Kf7,Rc1,Kg6,Rg1+,Kxh6,Kc1,Kh5,Kb2,h6,Bf6,Ne3,Bxd4,Nf5,Bf6,Ne3,d4,Ng4,Be5,Ne3,Kc3,Kh4,Rg6', 'Nd1+,Kb4,b2', 'https://lichess.org/training/1juzW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1jwoi', 'Rapid', 'dakog_loso', 1937, 'ssehc0123', 1956, 'e4,e6,b3,d5,exd5,exd5,Bb2,Nf6,Nf3,Nc6,Be2,Be7,O-O,O-O,h3,Be6,d3,a5,a4,Rb8,Nbd2,Bd6,Nd4,Nxd4,Bxd4,c5,Bb2,d4,Nc4,Bxc4,bxc4,Bc7,Bf3,Qd6,g3,Rfe8,Bc1,h6,Re1,b6,Bd2,Rxe1+,Qxe1,Re8,Qf1,Qd7,Kg2,g5,Re1,Rxe1,Qxe1,Qxa4', 'Qe7,Qd7,Qxf6', 'https://lichess.org/training/1jwoi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1jX9w', 'Blitz', 'GM Creep30', 2719, 'Aciboba', 2625, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Nxe4,Nxf7,Qf6,O-O,Bc5,d4,Bxd4,Be3,Rf8,c3,Bb6,Bd5,Rxf7,Bxe4,d6,Na3,Bf5,Bd5,Be6,Nc4,Bxe3,Nxe3,O-O-O,b4,Kb8,a4,Ne7,Bxe6,Qxe6,a5,d5,a6,b6,Qe2,c6,Ng4,e4,f4,Ng6,g3,Rdf8,Ne3,Ne7,Rad1,Nf5,Ng4,g5,Ne5,Rg7,Qf2,h5,c4,h4,cxd5,cxd5,g4,Nd6,Qd4,gxf4', 'Nc6+,Kc7,Qxg7+', 'https://lichess.org/training/1jX9w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Jy67', 'Blitz', 'kichot78', 2533, 'FM Manuel_Ochoa', 2494, 'd4,Nf6,c4,e6,g3,d5,Bg2,Be7,Nf3,O-O,O-O,dxc4,Qc2,c6,Qxc4,b5,Qb3,Bb7,Rd1,Nbd7,Ne5,Nxe5,dxe5,Nd7,Bf4,Qc7,Nc3,Nc5,Qc2,g5,Be3,Qxe5,Bd4,Qf5,e4,Qg6,b4,Na6,a3,Rac8,Bxa7,c5,Rd7,cxb4,Rxe7,Rxc3,Qb2,Bxe4,axb4,Qf6,Bxe4', 'Rxg3+,hxg3,Qxb2', 'https://lichess.org/training/1Jy67');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1K3u0', 'Rapid', 'Beeco76', 1627, 'CarlettodelCep', 1645, 'e4,b6,d4,Bb7,Nc3,e6,Bd3,Bb4,Nf3,Nf6,e5,Nd5,O-O,Bxc3,bxc3,Nxc3,Qd2,Bxf3,gxf3,Nd5,Kh1,Nc6,Rg1,g6,Qh6,Qe7,Bg5,f6,exf6,Nxf6', 'Bxg6+,hxg6,Qxh8+', 'https://lichess.org/training/1K3u0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1K8oI', 'Rapid', 'NETOLINSS', 1749, 'vvasek', 1714, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Ne7,Ng5,Ng6,c3,a6,Nh3,Be7,Qg3,c5,Bg5,cxd4,cxd4,Nc6,Be3,Qb6,b3,O-O,O-O,Bb4,a3,Be7,b4,Rac8,Nd2,Na7,Bg5,Bxg5,Nxg5,Qxd4,Nb3,Qxe5,f4,Qd6,Qh3,h6,f5,exf5,Nf3,Rc3,Nbd4,Nb5,Qxf5,Nxd4,Nxd4,Qe5,Qf2,Rc4,Nf3,Qd6,Rae1,d4,Nd2,Rc2,Rc1,d3,Ne4,Qd5,Qf3,Ne5', 'Nf6+,gxf6,Qxd5,Rxc1,Rxc1', 'https://lichess.org/training/1K8oI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Kd6N', 'Blitz', 'leadzep', 1868, 'DonFlamingo13', 1985, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,d3,d6,h3,Be6,Nd5,Bxd5,Bxd5,Nxd5,exd5,Ne7,c4,Qd7,d4,exd4,Nxd4,O-O-O,O-O,Nf5,Nb3,Bb6,Bf4,f6,Qc2,g5,Bh2,h5,c5,dxc5,Nxc5,Qxd5,Na4,Nh4', 'Nxb6+,axb6,Qxc7#', 'https://lichess.org/training/1Kd6N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1kgpZ', 'Blitz', 'Matthias1970', 1800, 'giochista', 1729, 'c4,e5,Nc3,Nf6,g3,Bb4,Bg2,O-O,Nh3,d5,cxd5,Bxc3,bxc3,Nxd5,e4,Nf6,Qe2,Nc6,O-O,Bg4,f3,Bd7,Bb2,a6,Rad1,Ne7,d4,exd4,cxd4,Qc8,Nf4,h6,d5,Ne8,Nd3,Nd6,e5,Ndf5,f4,Rd8,g4,Nh4,f5,Bb5,f6,Nxd5,e6,Nxg2,exf7+,Kxf7,fxg7+,Kg8,Qxg2,Ne3,Qf3,Nxf1,Rxf1,Bxd3', 'Qf7+,Kh7,g8=Q#', 'https://lichess.org/training/1kgpZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1kHmC', 'Classical', 'Blackhawkwill', 1833, 'Y_MAKAR', 1796, 'd4,d5,Bf4,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Nc6,a3,h6,Nd2,Nf6,h3,a6,Ngf3,Bd6,Bxd6,Qxd6,c4,dxc4,Nxc4,Qd5,O-O,Qe4,Qxe4,Nxe4,Rfd1,O-O-O,Rac1,b5,Nce5,Nxe5,Nxe5,Rhf8,Rc6,Kb7,Rdc1,Rc8,f3,Nd6,e4,g5,R6c2,f6,Nd3,Nc4,Rc3,Rfd8,Nc5+,Kb6,Nxe6,Rd6,d5,Nxb2,Rb3,Nc4,a4,Nd2,Rd3,Nc4,axb5,axb5,Rb1,Ra8,Rdb3,Ra5,Rc3,c6', 'Rxc4,cxd5,exd5', 'https://lichess.org/training/1kHmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1kJK0', 'Rapid', 'Biatchstealer', 1724, 'starwatchbiker', 1753, 'd4,f5,Bf4,Nf6,h3,b6,Nc3,Bb7,e3,e6,a3,d6,Nf3,Be7,Bb5+,Nbd7,Qd2,a6,Ba4,O-O,g4,fxg4,hxg4,Nxg4,O-O-O,Bxf3,Rdg1,Bxh1,Rxh1,b5,Bb3,d5,f3,Ngf6,Qh2,g6,Bg5,Rf7,Ne2,Rg7,Nf4,Nh5,Nxe6,Qe8,Nxg7,Kxg7,Bxd5,Bxg5,f4,Qxe3+,Kb1,Qxf4,Qg2,Rf8,Bc6,Nb6,Rd1,Nc4,Qd5,Nf6,Qe6,Re8,Bxe8,Nxe8,Qxe8,Bf6,Qd7+,Kh6,Rh1+,Bh4,Qe7,Qg5', 'Rxh4+,Qxh4,Qxh4+', 'https://lichess.org/training/1kJK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1kLIq', 'Rapid', 'FiggattadeBlanc', 2212, 'ConwyCastle', 2299, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bb4+,Nbd2,Qe7,e3,Ngxe5,Nxe5,Nxe5,Be2,O-O,O-O,Ng6,Bg3,Bd6,Bxd6,Qxd6,Ne4,Qe5,Nc3,c6,Qd2,d6,Rad1,Rd8,f4,Qe7,e4,Qc7,e5,Bf5,exd6,Qb6+,Kh1,Nf8,g4,Bd7,f5,c5,Bf3,Bc6,b3,Nd7,Qf4,f6,Nd5,Bxd5,Bxd5+,Kh8,Be6,Ne5,g5,Rxd6,gxf6,gxf6,Qh4,Rf8,Bd5,Qd8,Rg1,b5,Rg3,bxc4,Qxh7+,Kxh7,Rh3+,Kg7', 'Rg1+,Ng6,Rxg6#', 'https://lichess.org/training/1kLIq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1kNMH', 'Rapid', 'Tima_5b', 1960, 'nevera31', 2070, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,Bb3,a6,Nbd2,O-O,Nf1,Ne7,h3,Ng6,g4,d5,Qe2,b5,Bd2,dxe4,dxe4,Bb7,Ng3,Nf4,Qf1,Nd3+,Kd1,Nxf2+,Kc2,N6xe4,Rg1,Nxg3,Rxg3,Be4+,Kc1,Nd3+,Kb1,Bf2,Rg2,Ne1+,Kc1,Nxg2,Qxf2,Nf4,Nxe5,Nd3+,Nxd3,Qxd3,Be3,Kh8,h4,Rad8,h5,Rd7,h6,f6,g5,Rfd8,Bd4,Rxd4', 'hxg7+,Kxg7,Qxf6#', 'https://lichess.org/training/1kNMH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1KOFY', 'Rapid', 'jgarvik', 2047, 'Serik1', 1820, 'e4,c5,Nf3,d6,Nc3,e6,d4,cxd4,Nxd4,a6,Bd3,Nc6,Nxc6,bxc6,O-O,Bb7,Kh1,Be7,f4,Nf6,Be2,c5,Bf3,O-O,f5,Nd7,fxe6,fxe6,Bg4,e5,Be6+,Kh8,Be3,Nf6,Bd5,Bxd5,Nxd5,Nxe4,Nxe7,Qxe7,Qd5,Nf6,Qc6,Ng4,Bd2,Qh4,h3,Nf2+,Kg1,Qd4,Bc3,Qe3,Rae1,Qg3,Qxd6,Nxh3+,Kh1,Rxf1+,Rxf1,Nf2+,Kg1,Nh3+,Kh1,Nf4,Qc6,Rf8,Bxe5', 'Qh4+,Kg1,Ne2#', 'https://lichess.org/training/1KOFY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1koMt', 'Rapid', 'ssehcretsam', 1746, 'Neverness', 2003, 'g3,d5,Bg2,e5,b3,c5,Bb2,d4,Nh3,Be6,O-O,Qc8,Ng5,Nc6,e3,Bd7,Qf3,f6,Ne4', 'Bg4,Nd6+,Bxd6', 'https://lichess.org/training/1koMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1kQ08', 'Rapid', 'DvdAvins', 1971, 'incognito2020', 1811, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,d5,d3,Qe7,dxe4,Qxe5,exd5,Bd6,Bf4,Qxe2+,Bxe2,Bxf4,c4,Be5,Nc3,Bxc3+,bxc3,O-O,Kd2,Na6,Rab1,b6,a4,Nc5,a5,Bf5,Rb2,Rfd8,Ra1,c6,Bf3,Ne4+,Ke3,bxa5', 'Bxe4,Re8,f3,Bxe4,fxe4', 'https://lichess.org/training/1kQ08');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1kSQW', 'Rapid', 'T2209', 1879, 'Ahmed557', 2019, 'd4,Nf6,Nf3,g6,e3,Bg7,b3,d5,Bb2,O-O,Nbd2,c5,Bd3,a6,c4,cxd4,exd4,dxc4,bxc4,Nc6,Ne4,Bg4,h3,Bxf3,Qxf3,Nxd4,Nxf6+,Bxf6,Bxd4,Qxd4,Rd1,Rad8,O-O,Qb2,Qe2,Rd6,Rb1,Qc3,Be4,Rd2,Qf3,Rfd8,Qxc3,Bxc3,Rxb7,Bf6,a4,Ra2,Bc6,Rd4,Ra7,Rxc4,Rxa6,Rcc2,Bb5,Bd4,Ra8+,Kg7,Re8,Bxf2+,Kh1,Bc5,Bc6,Bd6,Bd5,e6,Be4,Re2,Bf3,Red2,Rd8,Bb4,Rb8,Rxa4,Rb7,Bc3,Bc6,Bf6,Be8,Raa2,Bxf7,Rxg2', 'Bxe6+,Kh6,Bxa2', 'https://lichess.org/training/1kSQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1KvDP', 'Rapid', 'Da1e', 2236, 'naborjs', 2235, 'd4,g6,Bf4,Bg7,e3,d6,Nf3,Bg4,Be2,Nc6,c4,e5,dxe5,dxe5,Qxd8+,Rxd8,Bg3,h5,Nc3,Bxf3,Bxf3,h4,Ke2,hxg3,hxg3,Rxh1,Rxh1,Nf6,Nb5,Rd7,Bxc6,bxc6,Nxa7,Rd6,Nc8,Rd8,Na7,Rd6,c5,Re6,b4,Nd5,a3,Nc3+,Kd3,Nb5,Nxb5,cxb5,g4,e4+,Kc2,Re7,Rh7,Kf8,Rh1,Rd7,Rd1,Rxd1,Kxd1,Bb2,Kc2,Bxa3,Kb3,Bc1,Kc2,Ba3,Kb3,Bxb4,Kxb4,c6,f3,Ke7,f4,Ke6,g3,f6,Kc3,Kd5,Kb4,Ke6,Kc3,Kf7,Kd4,f5,Ke5,b4', 'Kd4,b3,Kc3,b2,Kxb2', 'https://lichess.org/training/1KvDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1KVtV', 'Classical', 'Bezdeh', 1757, 'frbhipys', 2023, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Ne7,Nxe5,Qd4,Ng4,Qxe4+,Ne3,Qg6,d3,Be6,Qf3,O-O-O,O-O,Nd5,Nc3,Bd6,Nexd5,cxd5,Nxd5', 'Bxd5,Qxd5,Bh2+,Kxh2,Rxd5', 'https://lichess.org/training/1KVtV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Kw9Z', 'Rapid', 'gimowild', 1700, 'Eloest', 1714, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Nge7,Be2,Nf5,O-O,Bb4,a3,Ba5,b4,Bb6,Be3,a6,b5,axb5,Bxb5,Bd7,Qb3,O-O,Rd1,Nxe3,fxe3,Na5,Qd3,Rc8,Bxd7,Qxd7,Nbd2,Nc4,Ng5,g6,Ndf3,Bd8,e4,Qc6,exd5,exd5,Rac1,Qd7,Rb1,Bxg5,Nxg5,Qe7,Nf3,Nxa3,Rb3,Nc4,Rdb1,b6,Rb5,Rfd8,Rf1,Qe8,Rbb1,Rb8,Ng5,Rd7,Qh3,f6,Rxf6,Nd2,Rbxb6,Rxb6,Rxb6,Ne4,e6,Nxg5,Qe3,Qe7', 'Rb8+,Rd8,Rxd8+,Qxd8,e7,Qe8,Qxg5', 'https://lichess.org/training/1Kw9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1kwiX', 'Rapid', 'Manuel_Uhrig', 1991, 'VegaF', 1790, 'e4,d5,Nc3,d4,Nb5,Bd7,Nxd4,e5,Ndf3,Qc8,Nxe5,Bg4,Nxg4,g6,Ne5,Nc6,Nxc6,bxc6,Be2,Qe6,Nf3,Qxe4,Ng5,Qxg2,Bf1,Qxh1,d4,Be7,Nh3,Rd8,Bh6,c5,Qe2,cxd4,O-O-O,Nxh6,Kb1,d3,cxd3,c5,Ka1,Ng4,Qxg4,c4,dxc4,Rxd1+,Qxd1,f5,Nf4,Rf8,Nd5,Bd6,Nc7+,Bxc7,Qe1+,Kd7,Qd1+,Kc8,c5,Bxh2,c6,Qg1', 'Qd7+,Kb8,Qb7#', 'https://lichess.org/training/1kwiX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1KyKc', 'Rapid', 'Bherd25', 1808, 'jamisky21', 1629, 'e4,e5,d4,exd4,c3,d6,Bc4,Nf6,Bg5,Be7,Qb3,O-O,Nd2,dxc3,Qxc3,Be6,Bd3,h6,Bh4,Nbd7,Ngf3,Nxe4,Bxe7,Nxc3,Bxd8,Raxd8,bxc3,Rfe8,O-O,Nc5,Bc2,Bd5,Rfe1,a6,a3,Re6,Nd4,Ree8,Kf1,g6,Rxe8+,Rxe8,Re1', 'Bxg2+,Kxg2,Rxe1', 'https://lichess.org/training/1KyKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1kYRe', 'Rapid', 'blackabdullah', 1672, 'semoolumcul', 1698, 'd4,d5,e3,c5,c4,cxd4,Qxd4,Nc6,Qd1,e6,Nc3,Nf6,Nf3,Be7,Be2,O-O,cxd5,Nxd5,Nxd5,exd5,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/1kYRe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1l1do', 'Rapid', 'capkop', 1685, 'Miinow', 1673, 'c4,Nf6,d4,e6,Nc3,Bb4,Bd2,d5,cxd5,Nxd5,Nxd5,Bxd2+,Qxd2,exd5,e3,O-O,Nf3,Re8,Qc2,Nd7,Bd3,Nf6,Rc1,c6,O-O,Ne4,Nd2,Bf5,Rfe1,Qh4,Nxe4,Bxe4,Bxe4,Qxe4,Qxe4,Rxe4,f3,Re6,Kf2,a5,a4,Rb8,Re2,b5,Rec2,bxa4,Rxc6,Rxc6,Rxc6,g6,Kg3,Rxb2,Ra6,Rb5,Rc6,a3,Rc3,a2,Ra3,Rb2,Rxa5,Kf8,Kf4,Ke7,Ke5,Kd7,Kxd5', 'Rb5+,Rxb5,a1=Q', 'https://lichess.org/training/1l1do');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1l1ly', 'Rapid', 'iwillkillyourhorse', 1664, 'Awe-some', 1676, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,Nxe5,Qg5,d4,Qxg2,Qf3,Qxf3,Nxf3,d6,Nc3,Nf6,e5,dxe5,Nxe5,Bh3,Nxc6', 'Bg2,Rg1,Bxc6', 'https://lichess.org/training/1l1ly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1L4dH', 'Rapid', 'argoscacchi', 1670, 'aniket0502', 1660, 'd4,d5,Nc3,Nf6,Bg5,e6,Bxf6,gxf6,e4,Nc6,Nf3,dxe4,Nxe4,e5,d5,Nb4,Nc3,Bf5,Bd3,Bxd3,cxd3,Nxd5,Nxd5,Qxd5,O-O,O-O-O,Ne1,Bb4', 'Qg4+,f5,Qxb4', 'https://lichess.org/training/1L4dH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1l9FK', 'Rapid', 'YOYITO', 1650, 'sukalov', 1695, 'e4,c5,Bc4,e6,c3,a6,Ne2,b5,Bb3,Bb7,f3,c4,Bc2,Bc5,b4,Ba7,a4,d5,axb5,axb5,Nd4,e5,Nxb5,Bf2+,Kxf2,Rxa1,N5a3,d4,Ba4+,Bc6,Bxc6+,Nxc6,Bb2,Ra2,Qc1,d3,Nxc4,Nf6,Nba3,O-O,Qb1,Rxb2,Qxb2,Nh5,Ne3,Qb6,Nc4,Qa7,Ra1,Qc7,Nd5,Qd7,g4,f5,gxf5,Nf4,Nxf4,exf4,Na5,Ne5,Nb3,Rf6,Rg1,Rh6,Rg2,Rh3,Nd4,Qa7,Qb3+,Kh8,Qd5', 'Rxf3+,Ke1,Qa1#', 'https://lichess.org/training/1l9FK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1LaoV', 'Blitz', 'Quislom9', 1598, 'gylsmrk', 1598, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,a6,a4,d6,d3,Be7,O-O,Nf6,Bg5,h6,Be3,O-O,Qd2,Ng4,Bf4,e5,Bg3,Kh8,Nd5,f5,a5,f4,Nxe7,Qxe7,h3,fxg3,hxg4,Nd4,g5,Nxf3+,gxf3,hxg5,Kg2,Qd7,Rh1+,Qh3+,Rxh3+,Bxh3+,Kxh3,Rxf3,fxg3,g6,Qxg5,Kg7,Qe7+,Kh6,Qxd6,Raf8,Qxe5,g5,Rh1,Kh5,Qe7,g4+,Kg2+,Kg6,Qh7+,Kf6,Qh4+,Ke5,Qxg4,Rf2+,Kg1', 'Rf1+,Kh2,R8f2+,Kh3,Rxh1#', 'https://lichess.org/training/1LaoV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1lBx1', 'Rapid', 'AzadAy', 1683, 'true_assassin', 1674, 'e4,c5,Nf3,e6,Be2,Nc6,O-O,b6,d3,h6,h3,d6,c4,e5,Nc3,Be6,Nh2,h5,a3,Qd7,Nd5,Nf6,Bg5,Be7,Bxf6,Bxf6,f4,Bxh3,f5,Bg4,Nxg4,hxg4,Bxg4,Bg5,Rf3,f6,Rh3,O-O-O,Rxh8,Rxh8,b4,Ne7,bxc5', 'Nxd5,exd5,Be3+', 'https://lichess.org/training/1lBx1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1lD8O', 'Rapid', 'juancho40', 1933, 'allezchiermestbnk', 1871, 'd4,f5,e4,fxe4,Nc3,g6,Nxe4,Bg7,Nf3,Nf6,Nxf6+,exf6,Qe2+,Kf7,Qc4+,d5,Qb3,Re8+,Be3,Kg8,Bd3,Nc6,O-O,Bg4,Qxb7,Rxe3,fxe3,Ne7,b3,Rb8,Qxa7,Rb6,h3,Bxf3,Rxf3,Nc6,Qa3,f5,c4,Nb4,Bf1,f4,Qc1,fxe3,a3,Nc6,cxd5,Nxd4,Rxe3,h6,Rb1,Rf6,Bc4,Kh7,Rg3,Qd6,Qd2', 'Qxg3,Qxd4,Rf1+,Rxf1,Bxd4+', 'https://lichess.org/training/1lD8O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ldal', 'Rapid', 'brunocarv89', 2078, 'YoYoPa', 1947, 'e4,g6,d4,Bg7,Nc3,b6,Be3,Bb7,f3,d6,Qd2,Nf6,Be2,e6,Bc4,O-O,h4,h5,Nge2,Nc6,Rg1,Na5,Bd3,c5,g4,cxd4,Nxd4,e5,Nde2,d5,exd5,Bxd5,Nxd5,Qxd5,gxh5,Nxh5,Be4,Qxd2+,Bxd2,Rad8,Bxa5,bxa5,Nc3,Nf4,Rd1,Rb8,b3,Rbc8,Nd5,Rb8,Nxf4,exf4,Rd5,Rfe8,Kd1,Rbd8,Kc1,Rxd5,Bxd5,Re2,Rh1,Kf8,h5,gxh5,Rxh5,Bc3,Rh1,Ke7,Kd1', 'Rd2+,Kc1,Rxd5', 'https://lichess.org/training/1ldal');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1LDR6', 'Rapid', 'Samatushka', 1591, 'SANKALP_181070053', 1575, 'e4,e5,Bc4,Nc6,d3,Nf6,Nf3,Nd4,Nxe5,c6,Nxf7,Qe7,Nxh8,Nxe4,O-O,Nxf2,Qh5+,g6,Nxg6,hxg6,Qxg6+,Kd8,Rxf2', 'Qe1+,Rf1,Ne2+,Kh1,Qxf1#', 'https://lichess.org/training/1LDR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Lg0i', 'Rapid', 'kerbol', 1947, 'RichardMorales_05', 1965, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,Bd7,O-O,cxd4,cxd4,Nxd4,Be3,Nxf3+,Qxf3,Bc5,Nd2,Bxe3,fxe3,Nh6,Nb3,O-O,Nd4,Rac8,g4,Qxb2,Rab1,Qc3,Rb3,Qd2,g5,Nf5,Bxf5,exf5,Rxb7,Be6,Nxf5,Bxf5,Qxf5,Qxe3+,Kh1,Rc1', 'Qxf7+,Rxf7,Rb8+,Rc8,Rxc8+,Rf8,Rfxf8#', 'https://lichess.org/training/1Lg0i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1lGGC', 'Rapid', 'ivko73', 1791, 'Hellboy9062', 1834, 'g3,d5,Bg2,e6,d4,Nf6,Nf3,c5,c4,Nc6,cxd5,exd5,Bg5,Bd6,O-O,O-O,Bxf6,Qxf6,e3,Bg4,h3,Bh5,g4,Bg6,Nc3,Be4,Nd2,Bxg2,Kxg2,cxd4,Nxd5,Qe6,Qb3,dxe3,Nxe3,Qxb3,Nxb3,Bf4,Rfe1,Bxe3,Rxe3,Rfe8,Rae1,Rxe3,Rxe3,f6,a3,Ne5,Nc5,b6,Ne6,Kf7,Nd4,Rc8,g5,Rc4,Nf5,Rc2,gxf6,gxf6,b4,Rc7,f4,Rc2+,Kg3,Ng6,Nd4,Rc4,Ne6,h5,f5,Ne5,Nf4', 'h4+,Kxh4,Rxf4+', 'https://lichess.org/training/1lGGC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1lLWV', 'Rapid', 'mmohebi', 2307, 'KM2200', 2377, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,h3,h5,d3,Qf6,Nbd2,Ne7,Re1,Ng6,hxg4,hxg4,Nh2,Rxh2,Kxh2,Qh4+,Kg1,Bc5,Re3,Bxe3,fxe3,O-O-O,Nf1,Rh8,g3', 'Qh1+,Kf2,Rh2+,Nxh2,Qxd1', 'https://lichess.org/training/1lLWV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1lM4U', 'Rapid', 'speciaalmeisje', 1830, 'shahingordani', 2230, 'c4,d6,Nc3,c5,g3,Nc6,Bg2,Nf6,e3,e5,Nd5,a5,Ne2,b6,a4,Bb7,Nec3,Nb4', 'Nxf6+,Qxf6,Bxb7', 'https://lichess.org/training/1lM4U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1lqF0', 'Rapid', 'EBENITEZ', 1636, 'Gormous', 1674, 'e4,c5,Nc3,d6,Bc4,h6,Nf3,e5,d3,Nf6,h3,Be7,Be3,O-O,Nh4,Nxe4,g3,Nxc3,bxc3,Bxh4,gxh4,Qxh4,Qf3,Be6,Qxb7,Bxc4,dxc4,Nd7,Qxd7,Rad8,Qxa7,Qe4,O-O-O,Qxc4,Rhg1,Ra8,Qb7,Qxc3,Qg2,g5,Rd3,Qa1+,Kd2,Qxa2,h4,f6,hxg5,fxg5,Bxg5,Kh7,Qh2,Qe6,Bxh6,Qxh6+', 'Qxh6+,Kxh6,Rh3#', 'https://lichess.org/training/1lqF0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1luSn', 'Rapid', 'TheNextBattle', 1634, 'yehudac', 1630, 'd4,Nf6,Bf4,e6,Nf3,d5,e3,c5,c3,Nc6,Nbd2,Bd7,a4,a6,Ne5,Nxe5,dxe5,Nh5,Qxh5,Qb6,b3,O-O-O,a5,Qc6,Be2,d4,cxd4,cxd4,Qf3,Qc7,exd4,Bc6,Ne4,Bb4+,Bd2,Bxd2+,Kxd2,Rxd4+,Bd3,Bxe4,Qxe4,Rxe4,Rac1,Qxc1+', 'Rxc1+,Kb8,Bxe4', 'https://lichess.org/training/1luSn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Lxkn', 'Blitz', 'NazarMatvienko', 2176, 'WFM Chempiblinka', 2171, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,c5,Nge2,Nc6,Qd2,cxd4,Nxd4,a5,O-O-O,a4,a3,Na5,Kb1,Bd7,Nd5,Nxd5,cxd5,Qb8,Bb5,Bxb5,Nxb5,Nc4,Qe2,Nxe3,Qxe3,Ra5,Nd4,Rc8,Rc1,Rac5,Rxc5,Rxc5,Rc1,Qc7,Ne2,b6,Rxc5,bxc5,Nc3,Qa5,Qd3,Bd4,Kc2,Kg7,h3,h5,Ne2,Bf6,Nc3,h4,Qb5', 'Bxc3,Qxa5,Bxa5', 'https://lichess.org/training/1Lxkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1lZLV', 'Classical', 'gorvihas', 1747, 'NAIMAN888', 1706, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,c5,Qd5,Qd7,O-O,Nf6,Qd3,a6,Bf4,b5,Bd5,Nxd5,Qxd5,Bb7,Qd3,Be7,e5,Qg4,Qg3,Qxg3,Bxg3,dxe5,Bxe5,f6,Bg3,O-O,Re1,Rfe8,Nc3,Bf8,Rad1,Bc6,Kf1,b4,Nd5,Bb5+,Kg1,Rxe1+,Rxe1,Rd8,Nc7,Rd2,Rc1,Be2,Bf4,Rd1+,Rxd1,Bxd1,Nxa6,Bxc2,Be3,Bb1,Bxc5,Bxc5,Nxc5,Bxa2,Kf1,Kf7,Ke2,Ke7,Kd3,Kd6,Ne4+,Ke5,Nd2,Kd5,f4,g6,Nf3,Bb1+,Kd2,Be4,Ke3', 'Bxf3,gxf3,Kc4', 'https://lichess.org/training/1lZLV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1M0ex', 'Blitz', 'mestiaushguli', 2132, 'BobbyBlaka', 1851, 'e4,d5,exd5,Qxd5,Nc3,Qd6,g3,a6,Bg2,Nc6,d3,b5,Bf4,Qd7,Bh3,e6,Bg2,Bb7,Nge2,g6,Be5,Nxe5,Bxb7,Rb8,Bxa6,Bg7,a4,Nf3+,Kf1,b4,Ne4,Bxb2,Bb5,c6,Nc5,Qd5,Nf4,Nd2+,Qxd2,Qxh1+,Ke2,Qxa1,Bxc6+,Kf8,Nd7+,Kg7', 'Nh5+,gxh5,Qg5#', 'https://lichess.org/training/1M0ex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1m0F7', 'Rapid', 'Skuxx_Deluxx', 1501, 'Sasoke95', 1553, 'e4,d6,Nc3,Nf6,d4,g6,b3,Bg7,Bb2,O-O,Bc4,c5,d5,e6,dxe6,fxe6,Qf3,Nc6,Nge2,d5,exd5,exd5,Bxd5+', 'Nxd5,Qxd5+,Qxd5,Nxd5,Bxb2', 'https://lichess.org/training/1m0F7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1m2E2', 'Rapid', 'elhak3333', 1677, 'kale_42', 1739, 'e4,c6,Qf3,d5,exd5,cxd5,c4,Nf6,cxd5,Nxd5,Bc4,e6,Nh3,Be7,Bxd5,exd5,Qh5,O-O,d4,Bb4+,Nc3,Be6,O-O,Nc6,Bg5,f6,Be3,Bf7,Qf5,Ne7,Qg4,Qc7,Bh6,g6,Bxf8,Kxf8,f4,Bxc3,bxc3,Qxc3,Rfd1,Qe3+,Kh1,Nf5,Re1,Qxd4,Rad1,Qc4,Re2,Re8,Rxe8+,Bxe8,Qf3,Bc6,Qa3+,Kg7,Qxa7,Ne3,Re1,Ng4,Qa3,Qd4,Re7+,Kh6,Qc1,Nf2+,Nxf2,Qxf2,f5+,g5,Qg1,Qxa2,h3,Qa3,Qe1,d4,h4', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/1m2E2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1m4wD', 'Rapid', 'Usame231', 1624, 'fgh2018', 1732, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,d4,exd4,e5,Qe7,O-O,Ng4,Bg5,f6,exf6,Nxf6,Re1,O-O,Rxe7,Bxe7,cxd4,d5,Nc3,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd1,c5,Bxf6,Bxf6,Nxd5,Rad8,Nxf6+,Rxf6,Bc4+,Kh8,Qg4,Rg6,Qh4', 'Nf3+,Kf1,Nxh4', 'https://lichess.org/training/1m4wD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1m9HX', 'Rapid', 'JolteonEx', 1759, 'hc0001', 1802, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Nc3,Qf6,Qf3,Qxf3,gxf3,d6,Be3,Bxe3,fxe3,Rb8,b3,Nf6,Rg1,g6,Kf2,d5,exd5,Nxd5,Nxd5,cxd5,a4,Bf5,Rc1,Ke7,Bb5,Rhd8,Rge1,Kf6,e4,dxe4,fxe4,Be6,Ke3,Ke5,Rcd1,f5,exf5,Bxf5,Kf2+,Kf4,Rxd8,Rxd8,Re2,h5,Kf1,Rd1+,Kf2,g5,Kg2,Be4+,Kf2,Rh1', 'Rxe4+,Kxe4,Bc6+,Kf4,Bxh1', 'https://lichess.org/training/1m9HX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1MbZR', 'Rapid', 'MadBrain93', 2089, 'Odanx1988', 2121, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,a6,Be3,g6,Bc4,Bg7,Qf3,Nf6,Nxc6,bxc6,O-O-O,Bg4,Qg3,Bxd1,Rxd1,O-O,e5,Nh5,Qf3,Bxe5,Qxc6,Bxc3,bxc3,Qa5,Bb6,Qxc3', 'Bxf7+,Rxf7,Qxc3', 'https://lichess.org/training/1MbZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mcgb', 'Rapid', 'ohhboynotagain', 1744, 'SirSirTid', 1722, 'd4,Nf6,Nc3,e6,Bg5,Be7,e3,h6,Bh4,d5,Nf3,b6,Bd3,Nbd7,Ne2,Ne4,Bxe7,Qxe7,O-O,Ndf6,c4,Bb7,cxd5,exd5,Qc2,Ng5,Bb5+,Kf8,Ne5,Nfe4,Rac1,c5,Bc6,Bxc6,Nxc6,Qc7,Ne5,Ne6,f3,Nd6,Rfd1,f6,Nd3,Nc4,Kf2,Qxh2,b3,Nd6,dxc5,Nf5,cxb6,Ng5,b7,Re8,Qc5+,Ne7,Rh1', 'Nh3+,Ke1,Qxh1+,Kd2,Qxg2', 'https://lichess.org/training/1mcgb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1md6a', 'Rapid', 'Art1988', 1766, 'branislavus', 1666, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,b3,Bg7,Bb2,Qa5+,Nd2,Bxd4,Bxd4,Nxd4,Bd3,Nf6,O-O,O-O,Re1,d6,Nc4,Qg5,e5,Bh3,g3,Ng4,exd6,exd6,Nxd6,Qd5,Ne4,f6', 'Bc4,Qxc4,bxc4', 'https://lichess.org/training/1md6a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Mdhk', 'Rapid', 'King_outpost', 1917, 'nabl', 1937, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bd3,Ng6,O-O,Be7,Bxg6,hxg6,Be3,f6,Qc2,f5,Nbd2,g5,h3,g6,Nb1,Kd7,Qc1,f4,Bd2,Qb6,dxc5,Qxc5,Qc2,Rg8,b4,Nxb4,Qa4+,Nc6,c4,dxc4,Bc3,Kc7,Na3,a6,Bb2,c3,Bc1,Bd7,Rd1,Nxe5,Qe4,Nxf3+,Qxf3,Qc6,Qd3,e5,Qe2,e4,Nc2,Bf5,Nd4,Qf6', 'Qc4+,Kb8,Qxg8+', 'https://lichess.org/training/1Mdhk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mEVV', 'Rapid', 'gadoer', 1790, 'Remus2019', 1751, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Nc6,f4,Nf6,d4,Bf5,c3,e6,Nf3,h6,Ne5,Rc8,Nxc6,bxc6,Ba6,Rb8,Bd3,Bxd3,Qxd3,Ne4,b4,Bd6,Nd2,Bxf4,Nxe4,Bxc1,Rxc1,dxe4,Qxe4,Rc8,O-O,O-O,Rf3,Qd5,Qe3,Qg5,Rf4,Qd5,Rg4,g5,a4,Qf5,h3,Rcd8,Rf1,Qg6,Rff4,Rd5,Re4,Re8,c4,Rdd8,h4,f5,hxg5,fxg4,Rxg4,Kh7,Rh4,Rg8', 'Rxh6+,Qxh6,gxh6', 'https://lichess.org/training/1mEVV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mfXk', 'Classical', 'humbleplayer', 1978, 'niksitnikow2015', 2000, 'e4,c5,Nf3,d6,g3,Nc6,Bg2,Nf6,d3,g6,c3,Bg7,Bg5,O-O,Na3,a6,Nc2,Qc7,Bxf6,Bxf6,h4,h5,Ne3,b5,Nd5,Qd8,Nxf6+,exf6,O-O,Bg4,Qd2,Ne5,Nxe5,fxe5,f4,Qd7,f5,Kh7,Qg5,Rad8,Bf3,Bxf3,Rxf3,Rg8,Raf1,Rde8', 'fxg6+,fxg6,Rf7+,Rg7,Rxd7', 'https://lichess.org/training/1mfXk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mItF', 'Blitz', 'PZDC_TE_MYgAK_BbIE6Y', 2146, 'Nejaugi', 2269, 'e4,c6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,Bf5,c4,e6,Qb3,Qb6,Ne2,Be7,Nbc3,O-O,Bf4,Nbd7,O-O-O,Qxb3,axb3,a5,h3,Bg6,g4,Rfd8,h4,h5,g5,Ng4,Bxg4,hxg4,Ng3,f5,h5,Bf7,g6,Be8,Rhe1,Nf8,Nxf5,Bf6,Nd6,b6,Nxe8,Rxe8,Ne4,Rad8,Be5,Bxe5,dxe5,Nd7,Ng5,Nc5,Kc2,Rxd1,Rxd1,Rf8,Rd2,Rf5,Nf7,Kf8,Rd8+,Ke7,Rh8,Rxf2+,Kc3,g3,h6,g2,hxg7,g1=Q,Re8+,Kxe8', 'g8=Q+,Kd7,Qd8#', 'https://lichess.org/training/1mItF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Mjh3', 'Rapid', 'matheusandrey3008', 1743, 'Andreibodro', 1730, 'e4,c5,d4,cxd4,Nf3,a6,e5,e6,Bg5,Be7,Bf4,f6,Nxd4,fxe5,Bxe5', 'Qa5+,c3,Qxe5+', 'https://lichess.org/training/1Mjh3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1MjJk', 'Rapid', 'vjkrgn', 1723, 'Curseofthesadmonk', 1826, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d6,e4,Nbd7,e5,dxe5,dxe5,Ng4,h3,Ngxe5,Nxe5,Bxe5,Be2,O-O,Ne4,Nb6,O-O,Bf5,Ng3,Be6,Rb1,Nxc4,Bxc4,Bxc4,Re1,Qxd1,Rxd1,Bxa2,Ra1,Be6,Ne4,Rfd8,Re1,Rd5,Nc3,Bxc3,bxc3,a6,Bf4,c6,Rab1,Rb5,Rxb5,axb5,Bg5,Ra3,c4,bxc4,Bxe7,Rd3,Bf6,b5', 'Ra1,Rd8,Bxd8', 'https://lichess.org/training/1MjJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mk5p', 'Rapid', 'davoglio007', 1788, 'TomazP', 1797, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,g6,b3,Bg7,Nf3,Nf6,Bb2,O-O,g3,b6,Bg2,Bb7,O-O,a6,Re1,Nbd7,Ne5,Rb8,Ne4,Nxe4,Bxe4,Bxe4,Rxe4,Nxe5,dxe5,Qxd1+,Rxd1,Rbd8,Ree1,c5,c4,e6,f4,a5,Kf2,Rfe8,Ke3,Kf8,Rd6', 'Rxd6,exd6,Bxb2', 'https://lichess.org/training/1mk5p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1MKYa', 'Blitz', 'IM HeiLeh', 2383, 'lakystar', 2213, 'g3,Nf6,Bg2,g6,e4,d6,d4,Bg7,Ne2,O-O,O-O,c5,c3,Nbd7,h3,Rb8,a4,b6,Be3,a6,Qd2,Re8,Na3,Bb7,d5,b5,axb5,axb5,Nxb5,Ne5,b3,Bxd5,exd5,Rxb5,f4,Ned7,b4,cxb4,cxb4,Nb6,Nd4,Rxd5,Bxd5,Nfxd5,Bf2,e5,fxe5,dxe5,Nc6,Qd6,b5,Qe6,Ra6,e4,Bxb6,e3,Qg2,Nxb6,Rxb6,e2,Re1,Bd4+,Nxd4,Qxb6,Rxe2,Qxd4+,Qf2', 'Qd1+,Qf1,Qxe2,Qxe2,Rxe2', 'https://lichess.org/training/1MKYa');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 1;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet10 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bt6Na', 'Rapid', 'R0BOT', 1844, 'spok23', 1797, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,a6,Ba4,Bg4,d3,Nf6,Be3,Be7,Nbd2,h6,Nf1,O-O,h3,Bd7,Bc2,d5,exd5,Nxd5,Bd2,Re8,Ne3,Nf6,O-O,Bd6,Nh2,e4,Neg4,Bxh2+,Nxh2,Bf5,d4,b5,Be3,Nd5,Qc1,Qd6,Re1,Re7,Qd2,Rae8,Re2,Re6,Rae1,h5,Nf1,Nxe3,Rxe3,Nd8,Ng3,Bg6,Nxe4,Qf4,g3,Qh6,f4,Bxe4,Bxe4,Qf6,Qd3,g6,Bd5,Rxe3,Rxe3,Re7,Bb3,Kf8,Qe2,Rxe3,Qxe3,Qe7,Kf2,Qxe3+,Kxe3,Ke7,Ke4,Kd6,Bd5', 'f5+,Kd3,Kxd5', 'https://lichess.org/training/bt6Na');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bt7gT', 'Classical', 'Shikaru', 1618, 'Ginzzz', 1624, 'c4,e5,g3,d5,cxd5,Qxd5,Nf3,Bf5,Bg2,e4,Ng1,Bd6,d3,Qa5+,Bd2,Bb4,Nc3,exd3,Bxb7,Nf6,Bxa8,O-O,Bg2,Re8,a3,Bxc3,Bxc3,Qb6,Qd2,Ng4,e3,Nc6,Nh3,Nce5,O-O,f6,Nf4,g5,Nd5,Qc5,b4,Qc4,h3,Be4,Bxe4,Qxe4,f3,Nxf3+,Rxf3,Qxf3,hxg4,Qxd5,Rf1,Qd6,Rf5,Qxg3+,Qg2,Qxe3+,Rf2', 'Qc1+,Kh2,Qxc3', 'https://lichess.org/training/bt7gT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bt7X0', 'Classical', 'KiraNoir', 1742, 'Jagcrash77', 1693, 'e4,d6,d4,g6,Bd3,Bg7,c3,Nf6,h3,O-O,Ne2,c6,O-O,Bxh3,gxh3,Nbd7,Bf4,e5,Bg3,Qc8,Kh2,Nh5,Nd2,Ndf6,f4,exf4,Nxf4,Nxg3,Kxg3,Qc7,Qf3,Rae8,Kg2,b5,Rae1,a5,Re2,Re7,Ref2,Rfe8,Qg3,b4,Ne2,Nh5,Qg4,c5,d5,Qb7,c4,a4,b3,axb3,axb3,Qa7,Ng3,Nxg3,Qxg3,Qa2,Qxd6,Bc3,Nf3,Qxb3,Ng5', 'Be5,Qxc5,Qxd3', 'https://lichess.org/training/Bt7X0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bt8pS', 'Rapid', 'Prefieroe4', 2001, 'eiid', 1879, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nc3,Be7,a4,a5,Bd3,O-O,Qh5,g6,Qf3,c6,Nh3,N8d7,O-O,Nf6,Bg5,Bg4,Qg3,Bxh3,Qxh3,Nh5,Bh6,Re8,Rfe1,Bf8,Bd2,d5,cxd5,Nxd5,Rxe8,Qxe8,Nxd5,cxd5,Re1,Qc6,Bb5,Qc2,Bc3,Bb4,Qe3,Bxc3,bxc3,Rc8,Rc1,Qe4,Qxe4,dxe4,g3,f5,c4,Nf6,d5,Rc5,d6,Kf8,d7,Ke7,Rd1,Kd8,Rd6,Ng8,Kf1,Rc7,Ke2,Ne7,Ke3,g5,Rh6,Nc6,Rxh7,Rxd7,Rh8+,Kc7,Rg8', 'Rd3+,Ke2,Nd4+', 'https://lichess.org/training/bt8pS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BT9M3', 'Bullet', 'abufalia', 2013, 'angimar', 2169, 'e4,d5,Nf3,c6,e5,e6,d4,c5,c3,Nc6,Bd3,cxd4,cxd4,a6,O-O,b5,a3,Bb7,b4,Rc8,Be3,Nge7,Ng5,Ng6,Qg4,Be7,h4,Nxh4,Nxe6,fxe6,Qxg7,Kd7,Qh6,Ng6,f4,Bf8,Qh3,Qh4,Qf3,Bh6,f5,Bxe3+,Qxe3,Nge7,fxe6+,Kc7,Rf4,Qg5,Nd2,Rcg8,g4,h5,Nf3,Qh6,g5,Rg7,Rc1,h4,Rf6,Qh5,a4,Qg4+,Kf1,h3,axb5,Qg2+,Ke1,axb5,Bxb5,h2,Nxh2,Rxh2,Rf7,Rh1+,Bf1,Ba6,Rxc6+,Kxc6,b5+,Kb6,Qc3,Rxf7,Qc5+,Kb7,bxa6+,Kb8,Qb6+,Kc8,Qb7+,Kd8,Qb6+,Ke8', 'Qb8+,Nc8,Qxc8+,Ke7,Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/BT9M3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bT9WG', 'Classical', 'Tharunvk', 1744, 'welldonbesouw', 1600, 'd4,Nf6,c4,e6,Nc3,Bb4,Qb3,c5,e3,O-O,Nf3,Nc6,Bd3,b6,a3,cxd4,axb4,dxc3,bxc3,Bb7,O-O,Rb8,Qc2,Qc7,Ng5,h6,Ne4,Ng4,f4,f5,Nf2,Nf6,Nh3,Ne7,Qf2,Ng6,Qg3,Ne7,Rxa7,Qc6,Rf2,b5,Be2,Qb6,Ra1,bxc4,Bf3,Ned5,Bd2,Nxe3,Bxe3', 'Qxe3,Bxb7,Qxg3,hxg3,Rxb7', 'https://lichess.org/training/bT9WG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bTAxu', 'Blitz', 'threh', 1878, 'Marlboro111', 1838, 'd4,Nc6,Bf4,e6,e3,Nge7,Bc4,g6,Nf3,Bg7,c3,O-O,Qb3,b6,O-O,Bb7,Nbd2,d5,Bd3,a5,e4,dxe4,Nxe4,Nf5,Neg5,h6,Nxe6,fxe6,Qxe6+,Kh7,g4,Rf6,Qe4,Nd6,Bxd6,Qxd6,Ne5,Nxe5,Qxb7,Nxg4,Qg2,h5,h3,Raf8,hxg4,hxg4,Qxg4,Rh8,Rfe1,Kg8,Re8+,Bf8,Rae1', 'Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/bTAxu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('btBWd', 'Blitz', 'Algentas', 2000, 'CM LexiavSlayer', 2497, 'e4,g6,d4,Bg7,c3,d6,f4,c5,dxc5,dxc5,Qxd8+,Kxd8,Bc4,e6,Be3,Nd7,Nf3,a6,a4,b6,Nbd2,Bb7,Kf2,Ngf6,Ng5,Ng4+,Kf3,Nxe3,Kxe3,Ke7,Ngf3,e5,g3,Rad8,Rhd1,exf4+,gxf4,h6,b3,Rhe8,Rac1,Kf8,b4,Nf6,e5,Ng4+,Ke2,g5,h3,Bxe5,fxe5,Nxe5,Nxe5,Rxe5+,Kf2,Rd6,bxc5,Rf6+,Kg1,Re3,Bf1,bxc5,Nc4,Ref3,Ne5,Kg7,Nxf3,Rxf3,Bg2,Rg3,Rd2,Bc8,Kh2,Re3,Rf1,f5,Rf3,Re1,Rfd3,f4,Rd7+,Bxd7,Rxd7+,Kf6,Rd6+,Ke5,Rxh6,Re2,Kg1,Rc2,Rxa6,Rxc3,Rc6,f3,Bf1,Kf4,a5,Rc1,Rg6,c4,a6,c3,a7,Ra1,Ra6,Rxa6,Bxa6,c2,a8=Q,c1=Q+,Bf1,Qc5+,Kh1,Kg3,Qb8+,Kh4,Qh8+,Kg3,Qb8+,Kf2,Qb1,Qd5,Kh2,Qe5+,Kh1,Kg3,Qd1,Qe4,Kg1', 'f2#', 'https://lichess.org/training/btBWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BTCxt', 'Classical', 'Rilko', 1647, 'BurnsyCEO', 1655, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Nf3,Nc6,Bc4,Bg4,O-O,e6,Bg5,Be7,Bxe7,Ngxe7,Re1,Ne5,b3,Nxc4,bxc4,Rc8,Qd3,Qc7', 'Nb5,Qd8,Nxd6+', 'https://lichess.org/training/BTCxt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Btd0u', 'Rapid', 'FrankTheTank2', 2000, 'cartuz17099', 2078, 'd4,d5,c4,dxc4,e4,e6,Nc3,Bb4,a3,Ba5,Bxc4,Nf6,Qd3,h6,Ne2,c6,b4,Bc7,e5,Nd5,O-O,O-O,Qg3,g5,Ne4,f5,Bxd5,exd5,Nf6+,Rxf6,Bxg5,hxg5,Qxg5+,Kf7,exf6,Qxf6,h4,Qxg5,hxg5,Na6,f4,Bd7,g3,Bb6,Rf2,Re8,Re1,Bxd4,Kf1,Bxf2,Kxf2,c5,Rh1,Rg8,bxc5,Nxc5,Nd4,Ne4+,Kg2,Bc6,Nxf5,d4,Rh7+,Ke6,Nxd4+,Kd5,Nxc6,bxc6,Rxa7,c5,Kf3,Nd2+,Ke3,Nc4+,Kd3,Re8,Rd7+,Nd6,f5,c4+,Kd2,Ke5,f6,Ne4+,Kc2,Nxg5', 'Re7+,Kxf6,Rxe8', 'https://lichess.org/training/Btd0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BteKP', 'Rapid', 'clitt', 1851, 'hasan123', 1937, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,Bd6,Bg3,h5,Bxd6,Qxd6,Bd3,Nc6,Nbd2,Bd7,c4,O-O-O,c5,Qe7,a3,Rdg8,b4,g5,b5,Nd8,a4,b6,cxb6,cxb6,a5,g4,Ne5,Ne4,axb6,axb6,Nxe4,dxe4,Bxe4,Nb7,Qc2+,Kb8,O-O,Na5,Nc6+,Bxc6,Bxc6,Rc8,Rxa5,bxa5,Ra1,Qc7,Qc3,Qb6,Rxa5', 'Rxc6,Qxc6,Qxa5', 'https://lichess.org/training/BteKP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BtEQS', 'Rapid', 'quauhpilli', 2069, 'amgoun', 2053, 'e4,c5,Nf3,Nc6,Bb5,d6,c4,e6,O-O,Nf6,Nc3,Be7,a3,O-O,Rb1,a6,Ba4,Qc7,b4,cxb4,axb4,Na7,d4,b5,Bb3,bxc4,Ba2,Nb5,Nxb5,axb5,Qc2,Bb7,Re1,d5,e5,Ne4,Be3,Ra6,Rb2,Rfa8,Bb1,Ra4,Nd2,Nxd2', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/BtEQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BtH9X', 'Rapid', 'parkesy', 1737, 'Spilerr94', 1687, 'd4,d5,c4,e6,Nc3,c5,Nf3,Nc6,e3,Nf6,Be2,Ne4,O-O,g6,cxd5,exd5,dxc5,Bxc5,Qxd5,Nxc3,Qxd8+,Kxd8,bxc3,Kc7,Nd4,Ne5,a4,a6,Ba3,Bb6,Bb4,Bf5,a5,Ba7,Rfd1,Rad8,Nxf5,gxf5,f4,Nc6,Kf2,h5,Bd3,Rd5,Bc4,Rxd1,Rxd1,Re8,Bd6+,Kc8,Rd3,f6,Bb4,h4,h3,Ne7,Be6+,Kb8,c4,Nc6,Bd7', 'Nxb4,Bxe8,Nxd3+', 'https://lichess.org/training/BtH9X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Btidd', 'Rapid', 'DUNI', 1892, 'UMMA', 1930, 'b3,d6,Bb2,Nf6,e3,Nbd7,f4,e5,fxe5,dxe5,Nf3,Bc5,Nxe5,Nxe5,Bxe5,O-O,Bc4,Re8,Bb2,Ne4,O-O,Be6,Bxe6,Rxe6,Qf3,Ng5,Qh5,Qe7,Nc3,c6,Rf5,h6,Rxc5,Qxc5,h4,Ne4,Qxc5,Nxc5,Kf2,Rd8,d3,f5,Ne2,g5,hxg5,hxg5,Ng3,Rf8,Rh1,Kf7,Rh7+,Ke8,d4,Ne4+,Nxe4,fxe4+,Kg3,Re7', 'Rxe7+,Kxe7,Ba3+,Kf7,Bxf8', 'https://lichess.org/training/Btidd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bTj9x', 'Rapid', 'smlakar', 1622, 'OnePawnMan', 1602, 'e4,e5,c3,Nf6,d3,Nc6,Nf3,Bc5,Be2,d5,exd5,Nxd5,O-O,Bg4,Be3,Bxe3,fxe3,Nxe3,Qe1,Nxf1,Qxf1,Bxf3,Bxf3,Qd6,Nd2,O-O,Ne4,Qe7,c4,Rad8,Nc3,Qc5+,Kh1,Nb4,Nd5,c6,Nxb4,Qxb4,b3,Qc3,Rd1,Rfe8,Be4,g6,h4,h5,Qf6,Qb2,Rf1,Rf8,Rf3,Qd4', 'Bxg6,fxg6,Qxg6+', 'https://lichess.org/training/bTj9x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BTJb0', 'Blitz', 'CHESSORT', 2145, 'AFelixG', 1738, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Bc4,a6,Nf3,b5,Bb3,Bb7,O-O,Nc6,Qe2,Nge7,Rd1,Ng6,e5,Bc5,Ne4,Be7,Nd6+,Bxd6,Rxd6,O-O,Bg5,Qc7,Rad1,h6,Bc1,Rad8,Bc2,Ncxe5,Nxe5,Nxe5,Qxe5,Qxc2,Qg3,Qg6,Qxg6,fxg6,h3,Bc6,Be3,Rde8,g3,Rf5,a3,a5,Bb6,a4,Ba5,Ref8,R1d2,Rh5,Kh2,g5,Bc3,g4,h4,Rf3,Rxd7,Rxh4+,gxh4', 'Rh3+,Kg1,Rh1#', 'https://lichess.org/training/BTJb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bTjc5', 'Rapid', 'FSCS', 1762, 'barsic342', 1760, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,O-O,Bd6,d4,exd4,Qxd4,f6,Nc3,Bg4,Qd3,Ne7,h3,Bd7,Be3,O-O,Rfd1,Ng6,Qc4+,Kh8,Bc5,Qe7,Bxd6,cxd6,Qd4,Ne5,Nxe5,fxe5,Qxd6,Qf7,Qxd7,Qxf2+,Kh1,Qxc2,Qd2', 'Rf1+,Kh2,Qxd2,Rxd2,Rxa1', 'https://lichess.org/training/bTjc5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BtjMX', 'Blitz', 'IM LittlePumpkin', 2382, 'KAUKANAT', 2266, 'Nf3,d5,g3,Nc6,d4,Bf5,c3,Nf6,Nbd2,e6,Bg2,h6,O-O,Be7,Nb3,O-O,Nc5,Bxc5,dxc5,Qe7,b4,e5,Qb3,Rad8,Bb2,Rfe8,Rad1,Qe6,Nd2,e4,e3,Ne5,c4,dxc4,Qc3,Qa6,a4,Qxa4,Ra1,Qb5,Ra5,Qd7,Nxc4,Nf3+,Kh1,Bh3,c6,Qg4,Ne5,Rxe5,Rxe5,Bxg2+,Kxg2,Nh4+,Kg1,Rd1,Qc4,Rxf1+,Qxf1,Nf3+,Kg2,Nxe5,Bxe5,Qf3+,Kg1,Ng4', 'cxb7,Nxe5,b8=Q+', 'https://lichess.org/training/BtjMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('btl1e', 'Rapid', 'Ser_P', 1758, 'SayanDvarman', 2254, 'e4,e6,Nf3,d5,Qe2,dxe4,Qxe4,Nf6,Qh4,c5,Nc3,Nc6,Bb5,Bd7,O-O,Be7,Bxc6,Bxc6,Ne5,Qc7,f4,Nd7,Qg3,Nxe5,fxe5,Qd7,Qxg7,O-O-O,Rf2,Rhg8,Qxh7,c4,Ne4,Qd5,d3,Bc5,Qh3,Qxe4,dxe4', 'Rd1#', 'https://lichess.org/training/btl1e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BtLs2', 'Rapid', 'manik55', 1778, 'estonets', 1772, 'e4,c5,Nf3,d6,Be2,Nc6,Nc3,Nf6,d3,e6,O-O,Be7,h3,O-O,a3,a6,b4,b6,Rb1,Bb7,Re1,Rb8,Bf1,Re8,Ne2,cxb4,axb4,b5,c3,Qb6,Be3,Qc7,Ng3,Rbd8,Qc2,d5,e5,Nd7,d4,f6,Bf4,Rf8,Nh5,g6,Nxf6+,Nxf6', 'exf6,Qxf4,fxe7', 'https://lichess.org/training/BtLs2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BTM6g', 'Rapid', 'CristianMartinezz', 2085, 'Gersongarcia', 2120, 'e4,c5,Nf3,d6,Bd3,Nf6,c3,Nc6,Bc2,Bg4,O-O,e6,d3,Ne5,Ba4+,Nfd7,Qe2,Be7,Nbd2,O-O,h3,Bxf3,Nxf3,Nxf3+,Qxf3,a6,Bc2,Rc8,Be3,Bg5,d4,cxd4,Bxd4,Bf6,Rac1,b5,Qh5,Bxd4,cxd4,g6,Qe2,Qa5,Bb3,Qb6,Rcd1,a5,a3,a4,Ba2,b4,axb4,Qxb4,f4,Nb6,f5,exf5,exf5,Rce8,Qf2,Qb5', 'fxg6,hxg6,Bxf7+', 'https://lichess.org/training/BTM6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BTmU4', 'Blitz', 'specthcon', 1993, 'elmondi', 1951, 'e4,e5,Nf3,f5,Nc3,fxe4,Nxe4,Nf6,d3,d5,Nxf6+,gxf6,Bd2,Nc6,Qe2,Be6,O-O-O,Bc5,Kb1,Qd7,h3,O-O-O,Rc1,Rdg8,c4,dxc4,dxc4,Bf5+,Ka1,Rd8,Be3,Nb4,g4,Bxe3,fxe3,Nc2+,Kb1,Be4,Rxc2', 'Qd1+,Qxd1,Rxd1#', 'https://lichess.org/training/BTmU4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bTn5U', 'Rapid', 'Adrianojosepereira', 2044, 'Alekhine1927-1946', 2295, 'd4,e6,f4,d5,Nf3,Nf6,e3,Ne4,Bb5+,Bd7,Bxd7+,Qxd7,Ne5,Qd8,O-O,Nd7,Nd2,Nxe5,fxe5,g6,Nxe4,dxe4,c4,Bg7,c5,O-O,Qc2,f5,exf6,Rxf6,Rxf6,Qxf6,Qxe4,c6,Qf3,Qxf3,gxf3,e5,dxe5,Bxe5,Rb1,Rd8,f4,Bc7,Kf2,Rd1,b4,Kf7,a4,Ke6,Ke2,Rh1,b5,cxb5,axb5,Rxh2+,Kf3,h5,Ba3,Ra2,Rb3,h4,c6,bxc6,bxc6,h3,Bb2,h2,Kg2,a5,Kxh2', 'a4,Ra3,Rxb2+', 'https://lichess.org/training/bTn5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bTnuQ', 'Rapid', 'emli', 1958, 'rigoberto_22', 1914, 'd4,Nf6,e3,g6,f4,Bg7,Nf3,O-O,c4,d5,Nc3,c6,Bd3,Bg4,O-O,Ne4,Nxe4,dxe4,Bxe4,Nd7,Qc2,Nb6,h3,Be6,Bd3,f5,Bd2,Qd7,Bc3,Rfd8,Ne5,Bxe5,fxe5,Bxc4,Bxc4+,Nxc4,Qe2,b5,e4,e6,exf5,exf5,a3,Qe6,b3,Nb6,Rab1,Nd5,Ba1,Rd7,Qf2,f4,Qf3,Rf8,Rfc1,a6,Rc5,g5,Rbc1,Rc7', 'Rxd5,Qxd5,Qxd5+,cxd5,Rxc7', 'https://lichess.org/training/bTnuQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bTOkd', 'Blitz', 'farshid2700', 2260, 'ArnieChipmunk', 2400, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,Nd4,d3,Nxb5,Nxb5,Qa5+,Nc3,b5,Bd2,b4,Ne2,Bb7,Qc1,Qb6,Be3,d6,O-O,Nf6,h3,O-O,c3,a5,f5,Ba6,c4,e6,fxe6,fxe6,Bh6,Ra7,Bxg7,Rxg7,b3,d5,e5,Nd7,Qg5,Rgf7,Rae1,dxc4,dxc4,Bb7,Ng3,Bxf3,gxf3,Rxf3,Rxf3,Rxf3,Kg2,Qc6,Ne4,Rf5,Qd8+,Kg7,Qe7+,Rf7,Qd6,Qb7,Qxe6,Nf8,Qd5,Qe7,Nf6,Ne6,Rf1,Nd4,Kh2,Nf5,Rf3,Rxf6,exf6+,Qxf6,Qxc5,Qb2+,Qf2,Qe5+,Kg2,Qe4,Kg1,Nd4,Rf7+,Kh6,Qf4+', 'Qxf4,Rxf4,Ne2+,Kf2,Nxf4', 'https://lichess.org/training/bTOkd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BtoSV', 'Blitz', 'Niceguy_in', 1737, 'timur816', 1769, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Be7,O-O,Be6,Nc3,Nbd7,Be3,c6,a3,h6,Rb1,Qc7,h3,O-O,Qc1,Kh7,Bf4,Qc8,Bd3+,Kg8,Ne5,Nh7,Nxd7,Qxd7,Qe3,Nf6,Bg3,Rfe8,Qd2,Bxh3,gxh3,Qxh3,Qf4,Rad8,Qh4,Qe6,Rbe1,Qd7,Be5,Ne4,Qh2,Qg4+,Bg3,Bh4,Bxe4,dxe4,Qg2,Bxg3,fxg3,e3,Qf3,Qxd4,Qe2,b5,Qf3,e2+,Kg2,exf1=Q+,Rxf1,Rf8,Rd1,Qc5,Rf1,Rd2+,Kh3,b4,axb4,Qxb4,Qxc6,Qxb2,Ne4,Rxc2,Qd5,Rh2+,Kg4,Qe2+,Rf3,h5+,Kf4,g5+', 'Qxg5+,Kh7,Nf6+,Kh8,Qh6#', 'https://lichess.org/training/BtoSV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bTp5y', 'Rapid', 'frdzhdytz', 1950, 'aig', 1938, 'e4,e5,d4,exd4,Qxd4,Nf6,e5,Nc6,Qf4,Nd5,Qc4,Nb6,Qe4,Bc5,Nf3,O-O,Bd3,f5,exf6', 'Re8,f7+,Kxf7,O-O,Rxe4', 'https://lichess.org/training/bTp5y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BtpJP', 'Classical', 'happyindian11', 2023, 'supriya_20', 1633, 'd4,d5,c3,c6,Nf3,Nf6,Bg5,Bg4,e3,e6,Bd3,Bd6,Nbd2,Nbd7,Rc1,Rc8,Bb1,h6,Bh4,e5,dxe5,Nxe5,Bg3,Nxf3+,Nxf3,Bxf3,Qxf3,Bxg3,hxg3,O-O,Qf5,Re8,O-O,g6,Qf3,Ne4,Bxe4,dxe4,Qe2,f5,Rcd1,Qb6,Rd4,c5,Rd7,Rc7', 'Qc4+,Qe6,Qxe6+,Rxe6,Rxc7', 'https://lichess.org/training/BtpJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bTPz0', 'Rapid', 'Milann', 2035, 'Rasomon', 2122, 'd4,Nf6,c4,d5,Nc3,dxc4,e4,e6,Bxc4,Nc6,d5,exd5,Bxd5,Nxd5,Qxd5,Qxd5,Nxd5,Bd6,Bd2,Be6,Ne3,O-O-O,O-O-O,Bxa2,Nf5,Be5,Ne2,g6,Ne3,Bb3,Nc2,Bxc2,Kxc2,Nd4+,Nxd4,Bxd4,f3,Bf6,Bc3,Bxc3,bxc3,a5,Rxd8+,Rxd8,f4,b5,g4,c6,e5,h6,f5,g5,h4,Rd5,hxg5,hxg5,Rh7,Rd7,f6,Rd5,Rg7,Rxe5,Rxf7,a4,Rf8+,Kd7,f7,Re7', 'Rd8+,Kxd8,f8=Q+', 'https://lichess.org/training/bTPz0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('btqs3', 'Blitz', 'hackeraxel', 2363, 'EC98', 2318, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bd3,Ngf6,Ng5,Bd6,N1f3,O-O,Qe2,e5,O-O,h6,Ne4,Nxe4,Qxe4,Nf6,Qh4,exd4,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/btqs3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BtQvC', 'Blitz', 'FM PetarBosnjak', 2638, 'powernoise', 2593, 'e4,c6,d4,g6,Nc3,d5,e5,h5,f4,Bf5,Nf3,e6,Be2,Qb6,O-O,c5,Na4,Qa5,c3,Nc6,a3,c4,Be3,b5,Nc5,Bxc5,dxc5,Nge7,h3,Be4,Nd4,Nxd4,Qxd4,Nf5,Qd2,Ng3,Rfe1,h4,Bd1,Bd3,Bf2,Ne4,Qe3,Rc8,Bf3,Nxc5,Rad1,Be4,Be2,a6,Kh2,Bd3,Bf3,Ne4,Bxe4,Bxe4,Rd4,Kf8,Red1,Kg7,Qe1,Qd8', 'Rxe4,dxe4,Rxd8', 'https://lichess.org/training/BtQvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BtSxn', 'Bullet', 'woodyallenbrasileiro', 1853, 'bossnik1', 1767, 'Nf3,d5,b3,Bf5,Bb2,Nd7,e3,Ngf6,d4,e6,c4,c6,cxd5,exd5,Bd3,Bg4,Nbd2,Bb4,Qc2,O-O,O-O,h6,Ne5,Nxe5,dxe5,Nd7,f3,Be6,f4,f5,exf6,Nxf6,f5,Bf7,a3,Ba5,b4,Bb6,Rae1,Ng4,f6,Nxe3', 'Bh7+,Kh8,fxg7#', 'https://lichess.org/training/BtSxn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BTtB6', 'Blitz', 'CM DrTomQ', 2305, 'kilikidikoy', 2261, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Qd2,h6,O-O-O,g5,Be3,Ng4,h4,Nxe3,Qxe3,e6,Kb1,Nc6,hxg5,Qxg5,f4,Qa5,Nf3,Bd7,Bc4,O-O-O,Bb3,Ne7,g4,Kb8,Rh5,Qb6,a3,Ng6,Ka2,Ne7,Rdh1,Rdg8,g5,hxg5,Rxh8,Rxh8,Rxh8+,Bxh8,fxg5,Ng6,Qf2,e5,Ne2,Be6,Bxe6,fxe6,Qh2,Qb5,Nc1,Qc4+,Nb3,a5,Kb1', 'Qf1+,Ka2,Qxf3,Qh7,Qxe4', 'https://lichess.org/training/BTtB6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BtTpc', 'Classical', 'marty001', 1691, 'markou', 1626, 'd4,d5,c4,dxc4,Nf3,Nf6,e3,Nc6,Bxc4,h6,O-O,Bg4,Nbd2,e5,h3,Bxf3,Nxf3,exd4,Nxd4,Nxd4,exd4,Be7,Re1,O-O,Bf4,c5,d5,Bd6,Bxd6,Qxd6,Rc1,Rad8,b3,Nxd5,Qf3,Qf4', 'Bxd5,Qxf3,Bxf3', 'https://lichess.org/training/BtTpc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BTUFF', 'Rapid', 'dirtlint', 1988, 'Alfredo02', 1975, 'e4,c6,d4,d6,e5,dxe5,dxe5,Qa5+,Nc3,Qxe5+,Be2,Bg4,h3,Bxe2,Ngxe2,e6,Bf4,Qa5,O-O,Nf6,Ng3,Bb4,Nce4,Nxe4,Nxe4,O-O,c3,Be7,Qc2,Qf5,Bg3,Nd7,Rad1,Nc5,f3,Rfd8,Bc7,Rxd1,Rxd1,Nxe4,fxe4,Qc5+,Kh1,e5,Qb3,b6,Rd7,Rf8,Qd1,Bh4', 'Bd6,Qf2,Bxf8', 'https://lichess.org/training/BTUFF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bTUPc', 'Rapid', 'esc10', 1694, 'Ugur6910', 1613, 'd4,d5,c4,dxc4,e4,b5,a3,Bb7,Nc3,a6,Be2,Nf6,Bf3,g6,Bg5,Bg7,e5,Nd5,Nge2,Nxc3,Nxc3,Bxf3,Qxf3,c6,Rd1,O-O,O-O,f6,exf6,Bxf6,Bxf6,Rxf6,Qe4,a5,Rfe1,Rf7,a4,b4,Ne2,Ra7,Nf4,Rd7,d5,c3,bxc3,bxc3,h3,Na6,Ne6,Qb8,Qc4,Nc7,dxc6,Rxd1,Rxd1,Nxe6,Qxe6,c2,Rc1,Qb1,Rxb1,cxb1=Q+,Kh2,Kg7', 'c7,Qc2,c8=Q,Qxc8,Qxc8', 'https://lichess.org/training/bTUPc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BTW5G', 'Blitz', 'Eqo88', 2056, 'cot3', 2029, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,d5,O-O,O-O,a3,Bxc3,bxc3,dxe4,Bc4,Nd5,Bxd5,cxd5,Qe2,a5,Be3,Ba6,Qg4,Bxf1,Rxf1,c6,Bd4,f6,Qe6+,Kh8,Qxc6,Rc8,Qb5,Rb8,Qe2,Qd6,f4,Qxa3,f5,Qa2,h3,Rb2,Rf2,a4,Kh2,a3,Bc5,Ra8,Bb4,Qc4,Qh5,a2,Rf1,a1=B,Rxa1,Rg8,Rc1,Rxb4,cxb4,Qxb4,Qf7,Qd2,Ra1,Qxc2,Qxd5,e3,Ra8,Rc8', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/BTW5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BtwQ3', 'Rapid', 'pedroyelgol', 1981, 'Chess_Edelweiss', 2023, 'd4,d5,Bf4,Nc6,e3,f6,Bd3,g6,Nf3,g5,Nxg5,fxg5,Qh5+,Kd7,Bf5+,e6,Bxg5,exf5,Bxd8,Nxd8,Nc3,c6,O-O-O,Kc7,a3,Nf6,Qh4,Be7,Qg3+,Bd6,Qg7+,Nf7,Qxf7+,Nd7,b4,b5,Kb2,a5,Nxd5+,cxd5,Qxd5,axb4,axb4,Bxb4,Qxb5,Rb8,Qc4+,Kd8,Kc1,Ba3+,Kd2,Bb4+,Ke2,Rb6,d5', 'Ba6,Qxa6,Rxa6', 'https://lichess.org/training/BtwQ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BtwYG', 'Classical', 'moshkov-sasha', 1876, 'capobruno', 1650, 'e4,c5,Nf3,h6,c4,Nc6,d4,cxd4,Nxd4,Ne5,Nc3,a6,Be3,e6,Be2,Ne7,f3,g6,O-O,Bg7,Qc2,Qc7,b3,N7c6,f4,Nxd4,Bxd4,Nf3+,Bxf3,Bxd4+,Kh1,Qxf4,Rad1,Bg7,Ne2,Qc7,Nd4,O-O,Rfe1,Rb8,Qd2,b5,Rc1,bxc4,Rxc4,Qb6,Rd1,Rd8,Ne2,Qb5,Nd4,Qe5', 'Nc6,dxc6,Qxd8+', 'https://lichess.org/training/BtwYG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BTxYH', 'Rapid', 'xxpampy', 1736, 'Kaissa1989', 1692, 'd4,Nf6,e3,d5,h3,Nc6,a3,e5,c3,Be7,Bb5,exd4,cxd4,a6,Bd3,O-O,b4,Re8,Qc2,Nxd4,Qc3,Nb5,Bxb5,axb5,Nf3,b6,Nd4,Qd7,O-O,c5,bxc5,bxc5,Ne2,Ne4,Qc2,Bb7,Bb2,d4,Rd1,Bf6,Nd2,Nxd2,Rxd2,Be4,Qxc5,Rac8,Qb4,d3,Bxf6,gxf6,Nd4,Rc4,Qxb5', 'Rxd4,Qxd7,Rxd7', 'https://lichess.org/training/BTxYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BTycQ', 'Classical', 'rxss', 1725, 'Vercors123', 1656, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,Re1,Bb7,c3,d6,d4,Bb6,Bg5,h6,Bc1,Qd7,a4,Na5,Bc2,Nc6,h3,O-O,Nbd2,exd4,a5,Ba7,Nf1,dxc3,bxc3,Qe7,N1h2,Ne5,Bf4,Nfd7,Be3,Bxe3,Rxe3,Nc5,Ng4,Nxg4,hxg4,Qd7,g5,hxg5,Nxg5,Qe7', 'Qh5,Qxg5,Qxg5', 'https://lichess.org/training/BTycQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bTyKM', 'Rapid', 'osiadranesthesio', 1902, 'ioewpiopew', 1708, 'd4,d5,f4,Nf6,e3,c5,c3,e6,Nf3,Nc6,Bd3,Be7,O-O,c4,Bc2,O-O,Nbd2,a6,e4,dxe4,Nxe4,Nxe4,Bxe4,f5,Bxc6,bxc6,Ne5,c5,dxc5,Bxc5+,Kh1,Bb7,b4,cxb3,Qxb3,Bd5,c4,Be4,Ba3,Rb8,Qa4,Qd2,Nf3,Bxf3,Rxf3,Qxa2,Bxc5,Rb1+,Rf1', 'Rxf1+,Rxf1,Qxa4', 'https://lichess.org/training/bTyKM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BTyku', 'Rapid', 'juanmcj7', 1687, 'Amiramira', 1722, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bg5,Be7,Nd2,h6,Bh4,Nh7,Bg3,Bh4,Qf3,Bxg3,Qxg3,O-O,Bc4,Qf6,c3,Nd7,O-O-O,Ne5,Bb3,a5,a4,Bd7,f4,Ng6,Rdf1,c5,e5,dxe5,fxe5,Qg5,Qxg5,Nxg5,N4f3,Nxf3,Nxf3,b5,Bd5,Rad8,axb5,Bxb5,c4,Bd7,Re1,Rb8,Kc2,Rb4,g3,Bf5+,Kc3,a4,e6,Rb3+,Kd2,Bxe6,Ne5,Bxd5,cxd5,Nxe5,Rxe5,Rxb2+,Kc3,a3,Ra1,Ra8,d6,Rxh2', 'd7,Kh7,Re8', 'https://lichess.org/training/BTyku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Btz6x', 'Blitz', 'vitorsalgueiro', 2103, 'saeed112233', 2111, 'e4,c6,c4,e6,Nc3,d5,cxd5,cxd5,exd5,exd5,Bb5+,Nc6,Qf3,Be6,Nge2,Nf6,Nf4,Bb4,Nxe6,fxe6,O-O,O-O,Qh3,Qd6,a3,Ba5,b4,Bc7,Bd3,e5,Bf5,Nd4,Bb2,e4,Nd1,Nxf5,f4,d4,Qxf5,Rae8,Nf2,e3,dxe3,dxe3,Ng4,Ne4,Qh5,e2,Rfe1,Bb6+,Kh1,Nf2+,Nxf2,Bxf2,Rxe2,Rxe2,Qxe2,Qxf4,Rf1,h6,Qe6+,Kh7,Qe7,Rf7,Qe2,Rf5,Qe7', 'Qxh2+,Kxh2,Rh5+,Qh4,Rxh4#', 'https://lichess.org/training/Btz6x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Btz9v', 'Blitz', 'ErikRim', 1574, 'Smejmoon', 1513, 'd4,d5,Nf3,Bg4,h3,Bxf3,exf3,e6,Nc3,c5,Bb5+,Nc6,O-O,a6,Bxc6+,bxc6,dxc5,Bxc5,Na4,Bd6,Qd4,Nf6,Bg5,O-O,Qc3,Qc7,Bxf6,gxf6,Qxf6,Be7,Qh6,c5,Nc3,Qe5,Rfe1,Qg7,Qxg7+,Kxg7,Rad1,Kf6,f4,a5,f3,Rfb8,b3,Kg7,a4,Bf6,Nb5,Be7,Nc7,Ra7,Nb5,Rd7,g4,Kf6,Re5,Rg8,Rh5,Rg7,Rh6+,Rg6,Rxh7,Rd8,Re1,d4,g5+,Kf5,Re5+,Kxf4,Re4+,Kxf3,Rhh4,Bxg5,Rhg4,d3,Nc3,dxc2,Kh2,c1=Q', 'Rg3+,Kf2,Re2+,Kf1,Rg1#', 'https://lichess.org/training/Btz9v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bTzsM', 'Rapid', 'zeysel', 1848, 'Matosic11', 1970, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Bb4,bxc3,Ba5,Bb2,Ne7,Ne2,O-O,O-O,d6,Bb3,Be6,c4,Nbc6,Nd4,Bb6,Nxe6,fxe6,Qg4,e5', 'c5+,Kh8,cxb6', 'https://lichess.org/training/bTzsM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bu001', 'Blitz', 'magnosouza', 1993, 'senestrarooo', 2015, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Bg4,O-O,Nc6,c3,e6,Bg5,Bd6,Nbd2,h6,Bh4,O-O,h3,Bh5,Qb3,Na5,Qb5,b6,b4,Nb7,Ne5,g5,Bg3,Qc7,Ndf3,Bxf3,gxf3,Nh5,f4,Nxg3,fxg3,Bxe5,fxe5,Qxc3,Rf6,Qxd4+,Kh2,Kg7,Raf1,Qxe5,Qd7,Nd6,Rg6+,Kh8,Rxh6+,Kg7,Rg6+,Kh8,Rgf6,Nf5,Rxf7,Rxf7,Qxf7,Qb2+,Kg1,Qd4+,Kg2,Qxd3,Qf6+,Kh7,Qf7+,Ng7,h4,gxh4,gxh4,Qe4+,Rf3,Qg4+,Rg3,Qe2+,Kh3,Qb2,h5,Rg8', 'Qg6+,Kh8,Qh6#', 'https://lichess.org/training/bu001');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bu1Pv', 'Rapid', 'alphorn', 1731, 'mjkarkhanis', 1659, 'd4,b6,e4,e6,c4,Bb7,Nc3,Bb4,Bd3,Nf6,Qf3,Nc6,Ne2,Qe7,Bg5,h6,Bxf6,gxf6,O-O,O-O-O,a3,Bxc3,bxc3,h5,d5,exd5,cxd5,Ne5,Qg3,Rhg8,Qh3,Qd6,f4,f5,fxe5,Qxe5,Rxf5,Qd6,Qxh5,Rh8,e5', 'Qc5+,Kh1,Rxh5', 'https://lichess.org/training/Bu1Pv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bu1us', 'Rapid', 'Felat', 1672, 'kardkovacsi', 1644, 'f4,d5,d4,Bf5,a3,Nf6,Nc3,Nc6,e3,e6,Nf3,Bd6,Bb5,Qd7,Ne5,Bxe5,dxe5,Ne4,Nxe4,Bxe4,O-O,a6,Ba4,b5,Bb3,O-O,c3,Na5,Bc2,Nc4,Bxe4,Qe7,Bd3,Rfd8,Bxc4,dxc4,Qf3,Rd3,Qe2,Rad8,b4,cxb3,Bb2', 'Rd2,Qf3,Rxb2', 'https://lichess.org/training/bu1us');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bu2lL', 'Blitz', 'IM Faceless_Trickster', 2692, 'HardDrive54', 2511, 'd4,Nf6,Nf3,g6,c4,Bg7,g3,d5,cxd5,Nxd5,Bg2,O-O,O-O,Nb6,Nc3,Nc6,e3,e5,d5,Na5,b3,c6,dxc6,Nxc6,Ba3,Re8,Ne4,Bg4,h3,Bxf3,Bxf3,Qc7,Rc1,Rad8,Nd6,Re6,Nb5,Qb8,Qc2,Bf8,Bxf8,Kxf8,Rfd1,Rc8,Qc5+,Kg7,Nd6,Nd4,Nxc8,Nxf3+,Kg2,Rc6,Qa5,Qxc8,Kxf3,Rxc1,Qxe5+,Kg8,Rxc1,Qxc1,Qe8+,Kg7,Qe5+,Kf8,Qb8+,Qc8,Qxa7,Qc6+,Ke2,Qb5+,Kf3,Qc6+,Ke2,Kg7,Qa5,Nd5,Qd2,Nc3+,Kd3,Nb5,Qb2+,Kg8,a4,Nd6,Qd4,Nf5,Qd8+,Kg7,e4,Qf6', 'Qxf6+,Kxf6,exf5', 'https://lichess.org/training/bu2lL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bu65O', 'Classical', 'philippechatain', 1805, 'Flush_Royal', 1751, 'd4,d5,c4,e6,Nf3,c5,Nc3,Nf6,Bg5,Be7,e3,Nc6,cxd5,Nxd5,Bxe7,Qxe7,Nxd5,exd5,Bb5,cxd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,O-O,Qd4,Rfd8,Rfc1,Qb7,Rc5,Rab8,b3,Re8,Rac1,Re4,Qc3,Rbe8,Rxc6,h6,g3,h5,Rc7,Qa6,Rc2,d4,exd4,Re1+,Kg2,g5,Qc4,Qf6,Qc3,Qf5,Qf3', 'Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/bu65O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bu6hs', 'Rapid', 'cartman1889', 1760, 'jmick', 1796, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,Nf3,Bg4,O-O,e6,d3,c6,Bf4,Nbd7,h3,h5,hxg4,hxg4,Nh2,Qf5,Bg3,Nc5,Re1,Qh5,Kf1,Rd8,f3,Bd6,Bxd6,Rxd6,Nxg4,Qh1+,Kf2,Qh4+,g3,Nxg4+,fxg4,Qh2+,Kf3,e5,Ne4,Nxe4,Rxe4,Rh3,Rxe5+,Kf8,Qe1,Rf6+,Rf5,Rxf5+,gxf5,Rh5,Qe4,Qh3,Qf4', 'Rxf5,Qxf5,Qxf5+', 'https://lichess.org/training/bu6hs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BUBma', 'Blitz', 'JVM-Larsson', 1552, 'RobertoPetrini', 1598, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Qe7,Qf3,Nf6,e5,Nc6,Ne2,Qb4+,Nd2,Qxb2,O-O,Qxd2,exf6,Ne5,Qe4,Bd6', 'fxg7,Rg8,Qxh7,Rxg7,Qxg7', 'https://lichess.org/training/BUBma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('buBYG', 'Rapid', 'Mate73', 1883, 'camvep', 1862, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,c5,c3,Nc6,Bb5,a6,Bxc6+,bxc6,Ne5,cxd4,Nxc6,Qd7,Nxd4,Bd6,Bxd6,Qxd6,Nxf5,exf5,Qa4+,Qd7,Qxd7+,Kxd7,Nd2,Nf6,Nf3,Ne4,O-O,h6,Rad1,Ke6,Nd4+,Ke5,f4+,Kf6,Nf3,Rhd8,Nd4,Rd6,Nf3,Rb8,Rb1,g5,fxg5+,hxg5,Rfd1,Rdb6,Rxd5,Rxb2,Rf1,Rb1,Nd4', 'Rxf1+,Kxf1,Rb1+,Ke2,Nxc3+,Kd3,Nxd5', 'https://lichess.org/training/buBYG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bUDCk', 'Blitz', 'jk2015', 1667, 'S2301', 1720, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,d5,Bb5,Nd7,e6,Qe7,O-O,fxe6,Nxd4,Nxd4,Qxd4,Qc5,Qe5,Qxb5,Qxe6+,Be7,Re1,Qc5,Bg5,Nf6,Qe2,Rf8,Nc3,Bd7,Rad1,d4,Ne4,Qf5,Bxf6,gxf6', 'Nd6+,cxd6,Qxe7#', 'https://lichess.org/training/bUDCk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bUdKX', 'Blitz', 'WIM Nastya_Rakhmangulova', 2154, 'erfanahmadi1387', 2275, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Nd5,cxd4,d6,Bb5,dxe5,Nxe5,Bd7,Qf3,Nf6,O-O,Bd6,Nxd7,Nxd7,Re1+,Be7,d5,Nd4,Bxd7+,Qxd7,Qe4,Nf5,Nc3,O-O,g4,Rfe8', 'Qxf5,Qxf5,gxf5', 'https://lichess.org/training/bUdKX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BueFq', 'Rapid', 'CJ13th', 1685, 'Barghost', 1676, 'e4,c5,b4,cxb4,d4,a5,Bc4,Qc7,Bxf7+,Kxf7,Qh5+,g6,Qf3+,Ke8,Bb2,Qxc2,Qe2,Qxe2+,Nxe2,Bg7,O-O,Nf6,e5,Nd5,a3,Nc6,axb4,Ncxb4,Nbc3,b6,Nxd5,Nxd5,Rfe1,Ba6,Ng3,Rc8,e6,d6,Rab1,Kd8,Ba1,Rc4,Ne2,Ra4,Nc3,Nxc3,Bxc3,Bxd4,Bxd4,Rxd4,Rxb6,Bc8,Rc1,Bxe6,Rb8+,Bc8', 'Rbxc8+,Kd7,Rxh8', 'https://lichess.org/training/BueFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('buEQb', 'Rapid', 'Huevon', 2140, 'kikiputra', 1959, 'f4,Nf6,e3,Nc6,Nf3,d6,Bb5,Bg4,Bxc6+,bxc6,b3,e5,fxe5,dxe5,h3,Bh5,g4,Nxg4,hxg4,Bxg4,e4,Be7,d3,Bh4+,Kd2,Bf2,Qe2,Bg3,Rg1,Bf4+,Kc3,Bxf3,Qf2,Qd4+,Qxd4,exd4+,Kxd4,Rd8+,Kc5,Be5,c3,O-O,d4,Bd6+,Kxc6,Bxe4+,Kb5,Bd3+,c4,Rb8+,Kc6,Rb6+,Kd5,Re8,c5,Bh2,cxb6,Bxg1,bxc7,Rc8,Bf4,g5,Bd6,Be3,Nc3,f5,Rd1,Be2,Nxe2,f4,Ke6,f3,Ng3,f2,Nf5,Bd2,Ne7+,Kg7,Nxc8,Be1,Be5+,Kh6,Ne7,f1=Q,Nf5+,Kg6,c8=Q', 'Qxf5+,Ke7,Qxc8', 'https://lichess.org/training/buEQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('buG4J', 'Rapid', 'JuiceD4', 1908, 'Daniel_OFC', 1912, 'd4,Nf6,c4,g6,Nf3,Bg7,Bg5,O-O,e3,Nc6,Bd3,d6,O-O,e5,Bxf6,Bxf6,d5,Ne7,e4,c6,Nc3,cxd5,cxd5,Bg4,Re1,Bg5,h3,Bxf3,Qxf3,Qb6,Rab1,f5,Qe2,fxe4,Nxe4,Bh6,Kh1,Nxd5', 'Bc4,Kg7,Bxd5', 'https://lichess.org/training/buG4J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bug5m', 'Blitz', 'chrim', 1786, 'FM muran29', 2409, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Nxc6,bxc6,Nc3,d5,e5,Nd7,Bf4,Qa5,O-O,Ba6,Bxa6,Qxa6,Re1,Be7,Qg4,g6,Bh6,Rb8,Bg7,Rg8,Bf6,Bxf6,exf6,c5,Nxd5,Kf8,Ne7', 'Nxf6,Qg5,Kxe7', 'https://lichess.org/training/Bug5m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bugrm', 'Rapid', 'Ahmed-Azeh', 1983, 'Sizov_Sergey', 1948, 'e4,Nf6,Nc3,e5,Bc4,Nc6,Nf3,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,Bg4,O-O,Bc5,Bxc6+,bxc6,d3,Qf6,Re1,Bxf3,Qxf3,Qxf3,Rxe5+,Kd7,gxf3,Bd6,Re2,Rae8,Be3,Re7,Rae1,Rhe8,h3,f5,Kf1,c5,Bg5,Rxe2,Rxe2,Re6,Rxe6,Kxe6,Ke2,h6,Be3,g5,b3,f4,Bd2,Be5,c4,Bd4,b4,Kd6,b5,c6,a4,Bf6,a5,Kc7,a6', 'cxb5,Ba5+,Kc6', 'https://lichess.org/training/bugrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bUjH9', 'Rapid', 'NirobFaiyaz', 1924, 'mgv261', 1753, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Bc4,Qc7,Be3,Nf6,O-O,Bb4,Nxc6,bxc6,Qd3,Ng4,f4,Bb7,h3,Nxe3,Qxe3,d6,a3', 'Bc5,Qxc5,dxc5', 'https://lichess.org/training/bUjH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('buJJm', 'Classical', 'Aeschlimann', 1786, 'Evgeny_Pustyryov', 1938, 'Nf3,d5,d4,Nc6,c4,g6,Nc3,dxc4,Bf4,Bg4,Nb5,Rc8,d5,Nb4,Qa4,Bd7,Qxb4,e5,Qc3,Bxb5,Qxe5+,Ne7,Qxh8,Qxd5,Bh6,Kd7,Rd1,Qxd1+,Kxd1,Bxh6,Qd4+,Ke8,Qh8+,Kd7,Qd4+,Ke8,Qc5,Rd8+,Kc2,Ba4+,b3,cxb3+,axb3,Bc6,e3,Be4+,Kc1,Nc6,Bb5,Rd5,Bxc6+,bxc6,Qxc6+,Kd8,Qf6+,Ke8,Nd4,Bf8,Qc6+,Kd8,Qa8+,Ke7,Rd1', 'Rc5+,Kd2,Bxa8', 'https://lichess.org/training/buJJm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('buJnV', 'Blitz', 'Stubenfisch', 2216, 'WFM Anchkaaaaa', 2272, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,d3,Bxd3,g6,c4,Bg7,Nc3,d6,a3,Nf6,Qc2,O-O,h3,Be6,Ng5,Bd7,O-O,Rc8,Qb1,Ne5,b3,Nxd3,Qxd3,Bc6,Re1,Nd7,Bb2,Nc5,Qc2,a5,b4,axb4,axb4,Ne6,Nxe6,fxe6,Qd3,Qb6,b5,Bd7,Na4', 'Qxf2+,Kh1,Bxb2', 'https://lichess.org/training/buJnV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BuKk4', 'Rapid', 'sahilaadel', 1654, 'albe', 1706, 'Nf3,e6,d4,c5,e4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,Bb4,Bd2,a6,Bd3,Qc7,h3,b6,O-O,h5,Ng5,Nd4,Be3,Bc5,Bxd4,Bxd4,Re1,Bxc3,bxc3,Qxc3,Qf3,Bb7,Qf4,Qd4,Qc7,Bc6,Qf4,e5,Qf5,Ke7,Nf3,Qc5,Nxe5,g6,Qf4,Bb7,Bc4,Rhf8,Red1,d6,Nxf7,Rxf7,Bxf7,Kxf7', 'Rxd6,Qxd6,Qxd6', 'https://lichess.org/training/BuKk4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BUKlK', 'Rapid', 'aryosetiawarman', 1905, 'EwanTauran', 2018, 'e4,e5,Nf3,Nf6,Nc3,Bc5,d3,h5,h3,Nc6,Bg5,Nd4,Nxd4,Bxd4,Qd2,d6,O-O-O,Be6,Kb1,Qd7,Bxf6,gxf6,b3,a5,Nd5,Bxd5,exd5,a4,Qb4,axb3,cxb3,Ke7,f4,Ra7,fxe5,fxe5,Be2,Rha8,Rd2,c5,dxc6,bxc6,Rc2,Rb7,Qc4,d5,Qxc6,Rxb3+,Kc1,Qxc6,Rxc6,Rxa2,Bxh5,Ra1+,Kc2', 'Rb2#', 'https://lichess.org/training/BUKlK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bukPb', 'Rapid', 'wormer', 2051, 'CJR98', 1880, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bb4+,Nbd2,Qe7,a3,Ngxe5,Nxe5,Nxe5,e3,Bxd2+,Qxd2,d6,Be2,Bd7,O-O,g5,Bg3,h5,b4,h4,Bxe5,Qxe5,Rfd1,O-O-O,a4,h3,g3,Bc6,b5,Be4,a5,f5,b6,cxb6,axb6,a6,Qb4,f4,Ra5,Qe6,Rxg5,fxe3', 'Bg4,Qxg4,Rxg4', 'https://lichess.org/training/bukPb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bUKYV', 'Rapid', 'T3N3T', 2288, 'gourarim1', 2291, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,c5,dxc5,Qa5,Bd2,Qxc5,Bd3,Nc6,Qe2,O-O,Be3,Qb4,O-O-O,Bg4,h3,Bxf3,gxf3,Nh5,a3,Qa5,Nd5,Ng3,Qg2,Nxh1,Rxh1,e6,Bd2,Qd8,Ne3,Nd4,f5,Rc8,fxg6,fxg6,h4,Nxf3,h5,Nxd2,Kxd2,Qf6,hxg6,hxg6,Ng4,Qg5+,Kd1,Bxb2', 'Nh6+,Qxh6,Rxh6', 'https://lichess.org/training/bUKYV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bULdA', 'Blitz', 'cofa2006', 2127, 'gosha10b', 2234, 'd4,d5,c4,c6,Nf3,e6,g3,dxc4,Bg2,b5,O-O,Bb7,Ne5,Nf6,a4,Qc8,b3,cxb3,Nd2,Nbd7,Nxb3,Nxe5,dxe5,Nd7,Na5,Nxe5,axb5,Bb4,bxc6,Nxc6,Nxb7,Qxb7,Qa4,Rc8,Be3,a5,Rac1,O-O,Bxc6,Qe7,Bg2,g6,Rfd1,Rxc1,Rxc1,Rb8,Bf4,e5,Bh6,Qa7,Qa1,Qe7,Kh1,Rd8,h4,Re8,Qa2,Qa7,Be3,Qe7,Bd5,Rd8,Rc6,Qd7,Bf3', 'Qh3+,Kg1,Rd1#', 'https://lichess.org/training/bULdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bULHH', 'Rapid', 'g47', 1672, 'adminravi1', 1681, 'd4,d5,Bf4,Nc6,e3,f6,h3,e5,dxe5,fxe5,Bh2,Nf6,Nc3,Be6,Bb5,Bd6,Nge2,O-O,Qd2,a6,Ba4,b5,Bb3,Bb4,a3,Ba5,O-O-O,d4,exd4,Nxd4,Nxd4,exd4,Qxd4,Qxd4', 'Bxe6+,Kh8,Rxd4', 'https://lichess.org/training/bULHH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bulko', 'Rapid', 'Wellingtonmaster', 1986, 'Koldewarrior', 1936, 'd4,f5,c4,d6,Nc3,Nf6,Nf3,g6,e3,Bg7,Be2,O-O,O-O,Qe8,b3,e5,dxe5,dxe5,Bb2,e4,Nd4,Nc6,Ncb5,Qd7,c5,a6,Bc4+,Kh8,Nxc6,Qxc6,Nd4,Qxc5,a4,Rd8,Rc1,Qe7,Qe2,Nd5,Rfd1,Nb4,Ba3,c5,Bxb4,cxb4,g3,Bxd4,Rxd4,Rxd4,exd4,Be6,d5,Bg8,Rd1,Rd8,d6,Rxd6,Rxd6,Qxd6', 'Qb2+,Qd4,Qxd4#', 'https://lichess.org/training/bulko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bULn0', 'Classical', 'RoondMem', 1748, 'amreshsahay', 1743, 'e4,b6,d4,Bb7,Nc3,g6,Bf4,Bg7,Nf3,Nf6,e5,Nd5,Bg3,Nxc3,bxc3,a6,Bc4,e6,a4,d6,O-O,d5,Bd3,Nc6,Bh4,Qd7,Bf6,Bxf6,exf6,Qd8,Ne5,Qxf6,Nxc6,Bxc6,Qg4,a5,Rae1,Rb8,Re3,b5,Rf3,Qe7,Re1,bxa4,Qh3,Bd7,Qh6,Qf8,Qf4,Qd6', 'Qxf7+,Kd8,Qf6+,Qe7,Qxh8+', 'https://lichess.org/training/bULn0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bULqW', 'Blitz', 'Betovsky', 2450, 'GM IGMGataKamsky', 2713, 'd4,Nf6,Bg5,d5,Bxf6,gxf6,c4,dxc4,Nc3,e6,e3,c5,dxc5,Qxd1+,Rxd1,Bxc5,Bxc4,Ke7,a3,Nc6,Nf3,Ne5,Be2,Bd7,Ne4,Rac8,O-O,Ba4,Rc1,Bb6,Nc3,Bc6,Nxe5,fxe5,Bb5,Bxb5,Nxb5,e4,Rfd1,Rxc1,Rxc1,a6,Nc3,Rc8', 'Nd5+,Kd8,Rxc8+', 'https://lichess.org/training/bULqW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BULUP', 'Bullet', 'Huge_Smile', 1582, 'mbagermolayi', 1666, 'e4,e5,Bc4,Nc6,d3,Nf6,a3,d5,exd5,Nxd5,Nf3,Bc5,O-O,Bg4,Be3,Nd4,Bxd4,Bxd4,c3,Bb6,Nbd2,O-O,Qb3,c6,Nxe5,Qh4,Ndf3,Bxf3,Nxf3,Qh5,Bxd5,cxd5,d4,Rab8,Qc2,Bc7,h3,Bf4,Qd3,Rfe8,Rfe1,g6,Ne5,Bxe5,Rxe5,Rxe5,dxe5,Qxe5,Rd1,Rd8,c4,d4,b4,b6,g3,Kg7,f4,Qd6,Kf2,Rd7,Kf3,Qc6+,Qe4,Qxc4,Qe5+,f6,Qe8,Qd5+,Kf2,d3,Re1,Qd4+,Kf3,d2,Re7+,Rxe7,Qxe7+,Kh6', 'Qf8+,Kh5,g4+,Kh4,Qh6#', 'https://lichess.org/training/BULUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BUmIK', 'Rapid', 'ausuhov', 1835, 'NateTHEgr8', 1831, 'e4,c5,f4,Nc6,Nf3,e6,c3,d5,exd5,exd5,d4,cxd4,cxd4,Nf6,Nc3,Bd6,Ne5,Bf5,Bb5,Qc7,O-O,O-O,Bxc6,bxc6,Be3,Rfe8,Rc1,Ne4,Nxd5,Bxe5,Nxc7,Bxc7,Rxc6,Bb6,Rxb6,axb6,d5,Rxa2,Bxb6,Rxb2,Bd4,Rd2,Qa4,Rc8,Qa1,f6,Rd1,Re2,Rc1,Rd8,Kf1,Rd2,Rd1,Rc2,Qa5,Rdc8,Qa3,Bg4,Rb1', 'Nd2+,Kg1,Nxb1', 'https://lichess.org/training/BUmIK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BuN72', 'Blitz', 'Piyush1515', 2086, 'Dr_SnuffleBumps23', 2069, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,f3,d5,exd5,Nxd5,Nxd5,Qxd5,Nxc6,bxc6,Qxd5,cxd5,O-O-O,Rb8,c3,e6,Bd4,O-O,g4,a5,Bxg7,Kxg7,h4,Bb7,Be2,Rfd8,h5,a4,h6+,Kf6,a3,g5,Rd4,Bc6,f4,e5,fxe5+,Kxe5,Bd3,Rh8,Rf1,f6,Rf5+,Ke6,Bc2,Rb7,Bxa4,Bxa4,Rxa4,Rhb8,b4,Rc8,Kd2,Rc6,Ra5,Rbc7,Rf3,d4,cxd4,Rc2+,Kd3', 'R7c3+,Ke4,Re2+,Re3,Rexe3#', 'https://lichess.org/training/BuN72');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BUnOh', 'Rapid', 'swastik007', 1753, 'Medhansh', 1738, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,Nf3,Nc6,e3,Nb4,a3,Nc6,h3,h6,Bh4,g5,Bg3,Nd7,Qa4,Nb6,Qb5,Bd7,Qb3,Bd6,Ne5,Qf6,c5,Bxe5,dxe5,Nxe5,cxb6,axb6,Nb5,Kd8,Rc1,Bxb5,Qxb5,Nc6,Be2,e5,f4,gxf4,exf4,exf4,Bh2,Rg8,Rg1,Qh4+,g3', 'fxg3,Bxg3,Rxg3,Rxg3,Qxg3+', 'https://lichess.org/training/BUnOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bUnZU', 'Classical', 'Glenton', 1886, 'herve01', 1892, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be3,O-O,Be2,Nc6,O-O,e5,d5,Ne7,h3,c6,dxc6,bxc6,Rb1,Qc7,a3,d5,exd5,Nfxd5,Bd2,Rd8,Qc1,a6,Ne4,Bf5,Nc3,e4,Nh4,Nxc3,Bxc3,Bxc3,bxc3,Be6,c4,Qe5,Qe3,Rd4,f4,Qf6,f5,Nxf5,Nxf5,gxf5,c3,Rdd8,Rb6,Rdc8,c5,h6,Bxa6,Rc7', 'Qg3+,Kh7,Qxc7', 'https://lichess.org/training/bUnZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bUPbc', 'Rapid', 'abdallahfathy00', 1768, 'ESHA_ARUDIK', 1720, 'e4,e5,Nf3,Nc6,g3,Nf6,c3,Nxe4,Nxe5,Nxe5,Qe2,d5,d3,Nf6,Qxe5+,Be6,Bg2,Bd6,Qd4,Qd7,O-O,O-O-O,Qxa7,c6,Qa8+,Kc7,Be3,c5,Qa5+,Kc8,Na3,Bh3,Qa8+,Kc7,Qa5+,Kc8,Nb5,Bxg2,Qa8+,Bb8,Na7+,Kc7,Bf4+,Kb6,b4,Bxf4,Nc8+,Rxc8', 'Qa5+,Kc6,Qxc5#', 'https://lichess.org/training/bUPbc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BUPNg', 'Rapid', 'Tiezerk', 1872, 'sejton', 1894, 'd4,d5,Nf3,Nf6,e3,Bf5,c4,c6,Nc3,h6,Be2,e6,O-O,Bd6,c5,Bc7,Nh4,Bh7,f4,Ne4,Nf3,O-O,Bd3,Nxc3,Bxh7+,Kxh7,bxc3,b6,Ba3,b5,Qd3+,Kg8,Ne5,Bxe5,fxe5,Nd7,e4,Re8,exd5,exd5,Qf3,Qe7,Rae1,Nf8,Bc1,Ne6,Qg4,Ng5,h4,Ne4,Bxh6,Qf8,Re3,Re6,Bg5,Rg6,Qh5,Re8,Rf5,Rxg5,hxg5', 'g6,Qh3,gxf5', 'https://lichess.org/training/BUPNg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bUQ2t', 'Blitz', 'goyomatallanas', 1987, 'Harry0077', 2025, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,Bg4,f3,Bc8,Be2,Nbd7,Ne4,e5,Be3,Be7,Qd2,O-O,O-O-O,Qc7,g4,Nd5,Bg5,f6,Bh4,N7b6,c4,Nf4,Bf1,Be6,Kb1,Nxc4,Bxc4,Bxc4,Bg3,Bd5,h4,Rfd8,Bxf4,exf4,Ne2,c5,Nxf4,cxd4,Nxd5,Rxd5,Ng3,Qxg3,g5,f5,Rdg1,Qxf3,g6,h6,Re1,Bf6,Qb4,Qd3+,Ka1,Rb5,Qd6,Rxb2', 'Qe6+,Kh8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/bUQ2t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Burzd', 'Classical', 'tejmo', 1689, 'mehdidj1', 1681, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bc5,O-O,Nd4,Nxe5,Nxb5,Nxb5,Nxe4,Re1,Bxf2+,Kf1,Bxe1,Qxe1,Qf6+,Nf3,Qc6,d3,Qxb5,Qxe4+,Kd8,Nd4,Qh5,Kg1,Re8,Qf4,Qd1+,Kf2,Qe1+,Kf3,d6,b3,h5,h3,Qf1+,Kg3,Qxf4+,Bxf4,c5,Nf3,Kd7,Ng5,f6,Ne4,Re6,Rf1,Kc6,a4,Bd7,c4,g5,Bd2,h4+,Kh2,Rg8,Nxf6,Rxf6,Rxf6,g4,Bf4,gxh3', 'Rxd6+,Kc7,Rg6+', 'https://lichess.org/training/Burzd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('buseD', 'Rapid', 'Sadistic_Panda', 1776, 'Aftab_ahmad65', 1887, 'e4,e5,Nf3,d6,h3,h6,d4,exd4,Qxd4,Nf6,Nc3,Be7,Bc4,c6,Bb3,O-O,O-O,a5,a4,c5,Qd3,Nc6,Nd5,b6,Bf4,Ba6,c4,Nb4,Nxb4,axb4,Bc2,Bb7,Qe3,Re8,e5,dxe5,Nxe5,Bf8,Qg3,Ne4,Bxe4,Bxe4,Bxh6,Qf6,Ng4,Qxb2,Rfe1,gxh6', 'Nf6+,Kh8,Qg8#', 'https://lichess.org/training/buseD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BuSM0', 'Rapid', 'pana97', 1901, 'bbfinal', 1859, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Bb4,a3,Bxc3,dxc3,d6,O-O,a6,Be3,Nf6,Bd5,Ne7,c4,c6,Bxf7+,Kxf7,h3,Be6,b3,Qd7,Qe2,Rad8,Rad1,Ng6,Rd3,Bxh3,gxh3,Qxh3,Nh2,Nh4,f4,Qg3+,Kh1,Ng6,Bb6,Nxf4,Rxf4,Qxf4,Bxd8,Rxd8,c5,d5,exd5,Nxd5', 'Rf3,Nf6,Rxf4', 'https://lichess.org/training/BuSM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bUSt8', 'Classical', 'mustafadurkal', 1889, 'darkranger43', 1932, 'c4,e5,Nc3,Nf6,d3,b6,g3,Bb7,Nf3,Nc6,Bg2,Nd4,O-O,Nxf3+,Bxf3,Bxf3,exf3,Bc5,Be3,Bd4,Bxd4,exd4,Re1+,Kf8,Ne4,h5,Qd2,Rh6,Qf4,Ne8,Re2,c5,Rae1,d5,b3,dxe4,Rxe4,Qf6,Qd2,Qxf3,Rf4,Qc6,Qe2,Re6', 'Qxe6,Qxe6,Rxe6', 'https://lichess.org/training/bUSt8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('but6f', 'Rapid', 'gregs4a', 1824, 'Tonygere123456789', 1610, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf5,d6,Ng3,Be6,Bg5,Be7,Bxf6,Bxf6,Bd3,O-O,Qe2,Nd4,Qe3,Rc8,O-O,Bg5,Qe1,Bc4,Nge2,Bxd3,cxd3,Nc2,Qd1,Nxa1,Qxa1,Qb6,Nd5,Qd8,f4,exf4,Nexf4,Bxf4,Rxf4,Qg5,Qf1,Qe5,h3,Qxb2,Ne7+,Kh8,Nxc8,Rxc8,Rxf7,h6,Qf4,Qxa2,Rxb7,Rd8,Qf7,Qxf7,Rxf7,a5,Ra7,Rb8,Rxa5,Rb3,Kh2,Rxd3,Rd5,Rxd5,exd5,g5,Kg3,Kg7,Kg4,Kg6,g3', 'h5+,Kf3,Kf5', 'https://lichess.org/training/but6f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('buTVn', 'Rapid', 'levic11', 1716, 'RomikGood', 1670, 'e4,e5,Nf3,Nc6,Bc4,f6,d4,Bb4+,c3,Ba5,O-O,Nge7,d5,Nb8,Be3,d6,Qd3,O-O,b4,Bb6,Bxb6,axb6,Bb5,Bd7,Bc4,Ng6,g3,Bh3,Rd1,Nd7,Bb5,f5,exf5,Bxf5,Qe3,Bg4,Be2,Qe7,Ng5,Bxe2,Re1,Bc4,Ne6,Bxd5,Nxc7,Rxa2', 'Nxd5,Rxa1,Nxe7+', 'https://lichess.org/training/buTVn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bUTXv', 'Classical', 'ragh2806', 1851, 'carlosperret', 1858, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Ba5,b4,cxb4,axb4,Bxb4,Bd2,Nc6,Nf3,Nge7,Bb5,Bd7,O-O,Nf5,Qb1,a6', 'Bxc6,Bxc6,Qxb4', 'https://lichess.org/training/bUTXv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('buUCz', 'Rapid', 'oss222', 1978, 'watching_pawn', 2022, 'e4,e6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Bd7,Bd3,Qb6,Nb3,Bb5,Nc3,Bxd3,Qxd3,Nc6,Be3,Qc7,Bf4,a6,O-O,Bb4,Bg3,Nge7,f4,Nf5,a3,Be7,Ne2,O-O,Kh1,Rac8,Nc3,f6,Nxd5,exd5,Qxf5,fxe5,Qe6+,Kh8,fxe5,Rce8,Rxf8+,Rxf8,Qxd5,Rd8,Qe4,Qb6,Bh4,Bxh4,Qxh4,Nxe5,Nc5,Nf7,Ne4,Qxb2,Rf1,Qd4,h3,Qc4,Rxf7', 'Rd1+,Kh2,Qxf7', 'https://lichess.org/training/buUCz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BUVek', 'Rapid', 'montazerin', 1927, 'NeapolitanSixth', 1911, 'c4,c6,e4,e6,d4,d5,cxd5,exd5,e5,Bf5,Nc3,Bb4,Bd3,Bxd3,Qxd3,Ne7,Nf3,h6,O-O,Nd7,a3,Ba5,Re1,Nf8,e6,Nxe6,Rxe6,fxe6,Ne5,O-O,Qg3,Bxc3,bxc3,Kh7,Qd3+,Nf5,g4,Qf6,gxf5,Qxf5,Qxf5+,Rxf5,f4,Raf8,Ra2,g5,fxg5', 'Rf1+,Kg2,Rxc1', 'https://lichess.org/training/BUVek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bUvjf', 'Rapid', 'Ivanhoe123', 1762, 'ABHIJITKHANRA', 1772, 'd4,d5,Nf3,Nc6,Bf4,e6,e3,Nf6,Bd3,Nh5,Be5,Nxe5,Nxe5,Nf6,Nd2,Bd6,Ndf3,O-O,Ng5,h6,Nh3,Nd7,f4,c5,c3,c4,Bc2,Nxe5,fxe5,Be7,Qg4,f6,Qg6,f5,Nf4,Qe8,Qg3,Bg5,h4,Bxf4,Qxf4,Qh5,Bd1,Qg6,Bf3,Rb8,O-O-O,b5,Rdg1,b4,Qh2,bxc3,bxc3,Qf7,g4,Qb7,Qc2,fxg4,Bxg4,Rf2,Qxf2,Qb1+,Kd2,Qd3+,Ke1', 'Rb1+,Bd1,Qxd1#', 'https://lichess.org/training/bUvjf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('buwNY', 'Blitz', 'ritamona', 2020, 'ANDREI-GIRSHMAN-1982', 2024, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,cxd4,Nxd4,Nxd4,Bxd4,Nb8,Qd2,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O-O,b5,f5,Be7,fxe6,fxe6,Rhf1,b4,Ne2,Bb5,Kb1,Bg5,Be3,Bxe3,Qxe3,Bxe2,Qxe2,Qd7,Qh5+,g6,Qh4,Qe7,Rf6,O-O-O,Qh3,Rhe8,Rdf1,Kb8,Rf7,Qc5,Qxh7,Rc8,Qxg6,Rg8,Qh7,Rxg2,Rc1,Rgg8,h4,Rh8,Qg6,Rxh4,Qxe6', 'Qxc2+,Rxc2,Rh1+,Rf1,Rxf1+,Rc1,Rfxc1#', 'https://lichess.org/training/buwNY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BuxKx', 'Rapid', 'awoj123', 1785, 'Ghuntar', 1687, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,cxd4,cxd4,Nge7,Nc3,Nf5,Na4,Qd8,Bg5,Be7,Bxe7,Qxe7,b4,Bd7,Nc5,b6,Nxd7,Qxd7,Bb5,O-O,Rc1,Rac8,O-O,Qb7,Qd3,Qa8,h3,Rc7,Rc3,a5,Rfc1,Nfe7,Ng5,g6,h4,Rfc8,Qf3,Nf5,Bxc6,Rxc6,g4,axb4,axb4', 'Rxc3,Rxc3,Qa1+', 'https://lichess.org/training/BuxKx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BuXND', 'Classical', 'StuntmanEric', 1702, 'Mic23_SoRia', 1884, 'e4,c5,d4,cxd4,Nf3,Nc6,c3,dxc3,Nxc3,e6,Be3,d6,Bb5,Bd7,O-O,a6,Ba4,Be7,Re1,Nf6,e5,Nxe5,Nxe5,dxe5,Bxd7+,Qxd7,Qb3,O-O,Rad1,Qc7,Bb6,Qb8,Ne4,Nd5,Rxd5,exd5,Qxd5,Bd8,Bc5,Re8,Re3,Be7,Rf3,Bxc5,Rxf7,Kh8,Nxc5,b6,Nd7,Qc8,h3,b5,Nxe5,Qe6', 'Rf8+,Rxf8,Qxe6', 'https://lichess.org/training/BuXND');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BuYwH', 'Blitz', 'VicheOgono', 2014, 'prakharbajaj', 1976, 'd4,d5,Nf3,e6,c4,Nf6,e3,a6,Bd3,dxc4,Bxc4,b5,Bb3,Bb7,O-O,Nbd7,a3,c5,Nc3,Be7,Bd2,O-O,Rc1,Rc8,Ba2,Qb6,Bb1,Rfd8,Qe2,cxd4,exd4,Nd5,Rcd1,N7f6,Rfe1,Nxc3,Bxc3,Bxa3,d5,Nxd5,Rxd5,Bxd5,Qe5,Bf8,Ng5,f6,Bxh7+,Kh8,Nf7+,Kxh7,Qh5+,Kg8,Bxf6,Rc2,Nh6+,Kh7,Ng4+,Kg8,Be5,Bd6,Bxg7,Kxg7,Qh6+,Kf7,Qf6+,Ke8,Rxe6+,Bxe6,Qxe6+,Be7', 'Nf6+,Kf8,Qg8#', 'https://lichess.org/training/BuYwH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BuZdn', 'Rapid', 'Xarasho', 2136, 'Terex01', 1835, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Be7,O-O,Nc6,c4,O-O,Re1,Nf6,Nc3,Re8,Bg5,dxc4,Bxc4,Na5,Bb5,c6,Ba4,b5,Bc2,Be6,Bxf6,Bxf6,Qd3,g6,Qd1,Nc4,Qc1,Bg4,Qf4,Bxf3,Qxf3,Qxd4,Rxe8+,Rxe8,Qxc6,Nd6,Rd1', 'Qxd1+,Nxd1,Re1#', 'https://lichess.org/training/BuZdn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('buZOa', 'Rapid', 'borisr', 1976, 'laki-1975', 1899, 'Nf3,Nf6,c4,Nc6,d4,d6,d5,Ne5,Nbd2,Nxf3+,Nxf3,Bg4,e3,e6,dxe6,Bxe6,Be2,d5,cxd5,Qxd5,O-O,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/buZOa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bv0PH', 'Classical', 'Bruh448', 1736, 'EASLund', 1673, 'd4,e6,c4,Nf6,e3,d5,Nf3,c5,b3,Nc6,cxd5,exd5,dxc5,Bxc5,Bb5,O-O,O-O,a6,Bd3,Bd6,Bb2,Be7,Re1,Bg4,h3,Bxf3,Qxf3,Ne5,Qe2,Nxd3,Qxd3,Qd7,Nd2,Qd6,Nf3,h6,Ne5,Nd7,f4,Bf6,Qf5,Nxe5', 'fxe5,Qe6,Qxe6,fxe6,exf6', 'https://lichess.org/training/Bv0PH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BV26H', 'Rapid', 'Jack_pe', 1963, 'LICESSITUI', 1855, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qa5,Qb3,Nf6,Nf3,Be6,Qxb7,Bd5,Nxd5,Qxd5,Bb5+,Nbd7,Bc6,Qe6+,Kd1,Rb8,Bxd7+,Nxd7,Qxa7,g6,Re1,Qg4,b3,Bg7,Rb1,Qf5,Nd4,Qxb1,Nc6,O-O,Qxd7,Rbc8', 'Nxe7+,Kh8,Nxc8', 'https://lichess.org/training/BV26H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bV2GO', 'Rapid', 'MarcusLi490', 2239, 'willgarzon', 2009, 'd4,d6,e4,g6,Nf3,Bg7,c4,Nc6,Be3,e5,d5,Nce7,Nc3,f5,Be2,Nf6,Qc2,O-O,O-O-O,a6,Kb1,Bd7,Ng5,Qc8,exf5,Nxf5,Nce4,h6,Nxf6+,Bxf6,Ne4,Bg7,Qb3,b5,c5,Nxe3,fxe3,Bf5,Bd3,a5,cxd6,a4,Qa3,b4,Qxb4,a3,Rc1,Bxe4,Qxe4,Qb7,b3,cxd6,Qxg6,e4,Bxe4,Rf2,Qh7+,Kf7,Rhf1', 'Qxb3+,axb3,a2#', 'https://lichess.org/training/bV2GO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bv57c', 'Classical', 'chbarbalhodasilva', 1726, 'MarcDurt', 1779, 'e4,c5,Nf3,Nf6,e5,Nd5,c3,Nc6,d4,cxd4,cxd4,e6,Nc3,Bb4,Bd2,O-O,Nxd5,Bxd2+,Qxd2,exd5,Bd3,d6,exd6,Qxd6,O-O,Bg4,Ng5,Nxd4', 'Bxh7+,Kh8,Qxd4', 'https://lichess.org/training/bv57c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bv7cA', 'Classical', 'ConwyCastle', 2261, 'PrincessCeres', 2395, 'e4,c5,Nf3,e6,c3,Nf6,d3,d6,Be2,Be7,Nbd2,O-O,O-O,b6,Re1,Bb7,Nf1,c4,Ng3,Nbd7,Bg5,h6,Bxf6,Nxf6,Qc2,cxd3,Bxd3,Qc7,Nd4,a6,a4,Rfe8,Qe2,Bf8,Nh5,Nxh5,Qxh5,g6,Qg4,Bg7,h4,e5,Nf3,h5,Qg3,d5,Ng5,dxe4,Bxe4,Bxe4,Nxe4,Rad8,Qf3,Qc6,Qe2,b5,axb5,axb5,Ra7,f5,Ng5,Bf6,Rea1,Rd6,R1a6,Qc5,Rxd6,Qxd6,Qxb5,Re7,Ra8+,Kg7,Qb3,Bxg5,hxg5,Rf7,Qb5,Rd7,Qc4,Rd8,Ra6,Qd1+,Kh2,Qd2,Qc7+,Rd7,Qb6,Qxg5,Ra8', 'Qh4+,Kg1,Rd1#', 'https://lichess.org/training/bv7cA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bV7tI', 'Rapid', 'cruzcarneiro', 1892, 'Craft00', 1861, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bg5,Bb4,Nf3,O-O,Be2,c6,O-O,Bf5,a3,Ba5,b4,Bb6,Na4,Qd6,Nc5,Bxc5,bxc5,Qe6,Re1,h6,Bh4,Ne4,Bd3,Re8,h3,Na6,Nh2,g5,Bg3,Qg6,Nf3,f6,Rb1,Re7,h4,g4,Bxe4,Bxe4,Nh2,h5,Bd6,Rd7,g3', 'Bxc2,Qc1,Bxb1', 'https://lichess.org/training/bV7tI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bv8Tk', 'Rapid', 'rajapadhu', 1691, 'mk64', 1933, 'e4,e5,a4,Nc6,Bb5,Nf6,d4,exd4,Nf3,Nxe4,O-O,Be7,Nxd4,O-O,Bxc6,dxc6,Re1,Nd6,Bf4,Bf6,c3,Re8,Nd2,Nf5,Bxc7,Rxe1+,Qxe1,Qe7,Qxe7,Bxe7,Re1,Bf8,Re8,Nxd4,cxd4,f6', 'Bd6,Kf7,Rxf8+', 'https://lichess.org/training/Bv8Tk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bV9mJ', 'Rapid', 'zanburkalan', 1844, 'Diagonalle', 1916, 'e3,e5,Bd3,d5,Nc3,Nf6,e4,Bc5,Nf3,dxe4,Nxe4,Bg4,O-O,O-O,h3,Bxf3,Qxf3,Nc6,c3,Be7,Bc2,Qd7,d3,Rad8,Be3,Nd5,Bd2,f5,Ng5,f4,h4,h6,Qh5,hxg5,hxg5,Qe8', 'g6,Qxg6,Qxg6', 'https://lichess.org/training/bV9mJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BVbKQ', 'Rapid', 'Mony2015', 1919, 'alighamdi', 1956, 'e4,d5,Nh3,dxe4,Bc4,Bxh3,gxh3,Nc6,Nc3,Nf6,d3,exd3,Bxd3,a6,Be3,Qd6,Qe2,e5,O-O-O,Nd4', 'Bxd4,Qxd4,Bb5+', 'https://lichess.org/training/BVbKQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVc7Z', 'Blitz', 'NovikovRoman', 1661, 'benleps', 1633, 'e4,e5,f4,Nc6,Nf3,f5,d4,fxe4,Nxe5,Nf6,Bc4,d5,Bb3,Nxe5,fxe5,Bg4,Qd2,Nh5,O-O,Qh4,Bxd5,O-O-O,Bxe4,c5,c3,Be6,Qe3,Bc4,Rf3,cxd4,cxd4,Bb4,Nc3,Rxd4,Qxd4', 'Qe1+,Rf1,Qxf1#', 'https://lichess.org/training/bVc7Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVcf7', 'Rapid', 'whitedead', 1949, 'nevind7', 2015, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bg4,O-O,a6,Bxc6+,bxc6,Qd3,Nf6,Bg5,Ne4,Ne5,Nxg5,Nxg4,e6,Nd2,Bd6,f4,Ne4,Nxe4,dxe4,Qxe4,Qc7,Ne5,Rc8,c3,O-O,Rf3,c5,Rh3,f5,Qe3,cxd4,cxd4,g6,Nd3,Rfe8,Rc1', 'Bxf4,Rxc7,Bxe3+,Rxe3,Rxc7', 'https://lichess.org/training/bVcf7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVCod', 'Rapid', 'vitruvio', 1610, 'viyuli', 1870, 'd4,Nf6,Nc3,d5,e4,e6,e5,Nfd7,a3,c5,Be3,Nc6,Nf3,cxd4,Nxd4,Ncxe5,f4,Nc6,Be2,Bc5,O-O,O-O,Qd3,e5,Nxc6,bxc6,Bxc5,Nxc5,Qh3,e4,f5,g6,Bg4,Qb6,f6,Bxg4,Qh6,Ne6+,Kh1,Rfc8,Rae1,Qd8,h3,d4,Nxe4,Bf5,Ng5,Qxf6,Qxh7+,Kf8,Qh6+,Qg7,Qh4,Nxg5,Qxg5,Re8,Rd1,c5,g4,Be4+,Kg1,Bxc2,Qxc5+,Kg8,Qxc2,Rac8,Qd3,Qe5,Rde1,Qd6,Rd1,Re3', 'Qxe3,dxe3,Rxd6', 'https://lichess.org/training/bVCod');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvCWn', 'Blitz', 'IM Tahaned2015', 2444, 'San_Sanyich', 2634, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Be2,e5,Be3,Ng4,Bg5,f6,Bh4,g5,Bg3,Nh6,O-O,Nc6,dxe5,fxe5,c5,g4,Nh4,dxc5,Bc4+,Kh8,Qxd8,Rxd8,Nb5,Rd7,Rad1,Nd4,Nxd4,Rxd4,b3,Bd7,f3,b5,Be2,gxf3,Nxf3,Rxe4,Bd3,Rg4,Bxe5,Bc6,Bxc7,c4,bxc4,bxc4,h3,Rd4,Nxd4,Bxd4+,Kh2,cxd3,Rf4,Be3,Rf6,Bb5,Be5,Kg8,Rf3,Bc5,Rdf1,Be8,Rxd3,Bb5', 'Rg3+,Ng4+,Rxg4#', 'https://lichess.org/training/bvCWn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvDAG', 'Rapid', 'Rerey23', 1903, 'Bhulku', 1907, 'e4,e6,d4,d5,Be3,dxe4,Nd2,f5,Qh5+,g6,Qe2,c6,f3,exf3,Ngxf3,Bg7,O-O-O,Ne7,h4,Qa5,Kb1,Nd5,Nc4,Qc7,h5,Nd7,hxg6,hxg6,Rxh8+,Bxh8,Ng5,N7b6,Bd2,Nxc4,Qxc4,Qe7,Re1,Bf6,Nf3,Bd7,Ba5,b6,Bd2,O-O-O,a4,Kb8,Qb3,g5,a5,g4,Ne5,Bxe5,Rxe5,c5,Qxd5,cxd4,Qxd4,Bb5,Rxe6,Rxd4,Rxe7,Bxf1,Bc3,Rd1+,Ka2,Bxg2,a6,Bd5+,b3,Bc6', 'Be5+,Kc8,Rc7+,Kd8,Rxc6', 'https://lichess.org/training/bvDAG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BVdYo', 'Blitz', 'WIM theater', 2147, 'borisjul', 2143, 'd4,Nf6,Nf3,e6,e3,b6,Bd3,Bb7,Nbd2,Be7,O-O,O-O,b3,d6,Bb2,Nbd7,c4,c5,e4,e5,d5,Re8,Re1,g6,Nf1,Nh5,g3,Ndf6,Ne3,Bc8,Nh4,Bd7,Rf1,Qc8,Qc2,Bh3,Nhg2,Ng4,Nxg4,Qxg4,Be2,Qg5,Bc1,Qf6,Bxh5,gxh5,f4,Bxg2,Kxg2,h4,fxe5,Qxe5,Bb2,Qh5,Rf5,Qg6,Raf1,Rf8,R1f4,hxg3,hxg3,Bg5,Rg4,h6,Bc1,f6,Qf2,Rae8,Qf3,Re5,Bb2,Rxf5,exf5,Qh5,Bc1,Re8', 'Rxg5+,Qxg5,Bxg5', 'https://lichess.org/training/BVdYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bveoO', 'Rapid', 'MeteYogunali28', 1856, 'avas', 1832, 'd4,Nf6,c4,d6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg5,c6,O-O-O+,Kc7,Nf3,Nbd7,e3,Bb4,Nb1,Ne4,Bh4,a5,a3,f6,axb4,axb4,Bd3,Nec5,e4,Nb3+,Kc2,Ndc5,Nbd2,Na5,b3,Bg4,h3,Bh5,g4,Bg6,Kb2,Rad8,Bc2,b6,Rhe1,Nab7,Ng1,Ne6,Ndf3,Nbc5,Rxd8,Rxd8,g5,Nf4,Kb1,Rf8,gxf6,gxf6,Bg3,Nce6,Bxf4,Nxf4,Nh4,Rg8,Nxg6,Rxg6,Kc1', 'Rxg1,Rxg1,Ne2+,Kd2,Nxg1', 'https://lichess.org/training/bveoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVfI5', 'Rapid', 'JeremyLin17', 2182, 'Zamir86', 2021, 'e4,e5,Nc3,Nf6,f4,d6,Nf3,Nbd7,Bc4,Be7,O-O,O-O,d4,exd4,Qxd4,d5,Kh1,dxc4,e5,Bc5,Qxc4,Ng4,Ne4,Bb6,h3,Nh6,a4,a5,b3,Nf5,Re1,h6,g4,Nh4,Nxh4,Qxh4,Kg2,h5,Qe2,Nxe5,Rh1,Ng6,f5,Ne5', 'Bg5,Qxg5,Nxg5', 'https://lichess.org/training/bVfI5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BvfTO', 'Rapid', 'Kertsi', 1855, 'Load_Name_Here', 1852, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nb3,Be6,O-O,Be7,f4,exf4,Bxf4,O-O,h3,Nc6,Qe2,Nb4,Nd4,Nxd3,cxd3,Bd7,Nb3,g6,Rad1,Nh5,Bh2,Qb6+,Kh1,Bf6,g4,Bxc3,gxh5,Bxh3,bxc3,Bxf1,Rxf1,Qc7,c4,b5,h6,bxc4,dxc4,Qc6,Qf3,Qxc4,Qf6,Qxe4+,Kg1,Qe3+,Rf2,Qxh6,Bxd6,Rad8,Bxf8,Rd1+,Kg2,Qh1+,Kg3,Rg1+,Kf4,Qh6+,Ke5,Qxf8,Nd4,Re1+,Kf4,Qh6+,Qg5', 'Re4+,Kxe4,Qxg5', 'https://lichess.org/training/BvfTO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BvFyB', 'Rapid', 'unguentosantop', 1981, 'Volldemall', 1973, 'd4,d5,c4,c6,Nf3,Bg4,Ne5,Bh5,g3,Nf6,Bg2,e6,O-O,Nbd7,cxd5,exd5,Nc3,Nxe5,dxe5,Nd7,Bf4,Bc5,Qb3,b5,Nxd5,cxd5,Bxd5,O-O,e6,fxe6,Bxe6+,Kh8,Rad1,Bxe2,Rxd7,Qb6,Qc3,Rg8,Be5,Qxe6', 'Bxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/BvFyB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvgHF', 'Rapid', 'jsraghu', 1609, 'woyyytek', 1620, 'c3,c5,d4,cxd4,cxd4,d5,Nc3,Nf6,Nf3,Nc6,g3,Bg4,Bg2,e6,O-O,Bd6,Bg5,h6,Bxf6,Qxf6,Nb5,Bb8,Ne5,Nxe5,dxe5,Qxe5,Qa4,O-O,e3,Bf5,f4,Qxe3+,Kh1,Qb6,Nc3,Qxb2,Rfc1,Qb6,Qa3,Bd6,Qb3,Qxb3,axb3,Rfc8,Nb5,Rxc1+,Rxc1,Bf8,Rc7,a6,Nd4,Rb8,h3,Bg6,g4,Bd6,Rd7,Bxf4,b4,Be3,Nf3,f6,Re7,e5,Nh4,Be4,Bxe4,dxe4,Nf5,Bg5,Rxg7+,Kf8,Rh7,Re8', 'Rh8+,Kf7,Nd6+,Ke7,Nxe8', 'https://lichess.org/training/bvgHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvi6u', 'Rapid', 'Darya068', 1807, 'amitmit', 1744, 'd4,Nf6,c4,e6,Nc3,b6,e4,Bb7,e5,Ne4,Nge2,d6,Nxe4,Bxe4,Nc3,Bb7,exd6,cxd6,d5,e5,Bd3,Nd7,Be3,Nc5,Bxc5,bxc5,Qa4+,Qd7,Nb5,Kd8,O-O-O,a6,Qa5+,Kc8', 'Bf5,axb5,Bxd7+', 'https://lichess.org/training/bvi6u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BviMx', 'Rapid', 'JMateus10', 2083, 'michelle1111', 1962, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,h3,Nf6,Nf3,g6,Bd2,Qb6,Qc1,Bg7,Bh6', 'Bxh6,Qxh6,Qxb2', 'https://lichess.org/training/BviMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bviwW', 'Rapid', 'Immorael', 2001, 'DrAbdullah590', 1977, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Nd4,Ba4,c6,O-O,d6,h3,Be7,d3,O-O,Be3,b5,Bb3,Nxb3,axb3,Be6,b4,Qc7,Re1,Rad8', 'Rxa7,Qb8,Rxe7', 'https://lichess.org/training/bviwW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bvjad', 'Blitz', 'jarocho76', 2133, 'rodolfo-fouere', 1945, 'd4,Nf6,Nf3,e6,c4,c5,Nc3,cxd4,Qxd4,Nc6,Qd1,Bb4,Bd2,O-O,a3,Be7,e3,b6,Bd3,Bb7,O-O,d5,cxd5,Nxd5,Qe2,Rc8,Nxd5,exd5,Rac1,Bf6,b4,Ne5,Ba6,Bxa6,Qxa6,Rxc1,Rxc1,Nxf3+,gxf3,Qd7,Qd3,Qh3,e4,dxe4,Qxe4,h6,Bf4,Bb2,Rc7,Bxa3,Bd6,Rc8,Qe7,Rxc7,Qxc7,Qxf3,Qxa7,Qd1+,Kg2,Qxd6,Qxa3,Qc6+,f3,g6,Qd3,Qe6,h4,h5,Qd4,Qa2+,Kg3,Qe6,Qd8+,Kh7,Qd4,Kh6', 'Qh8#', 'https://lichess.org/training/Bvjad');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BvJoi', 'Blitz', 'Andry10', 1801, 'Larrychenko', 1782, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,c6,Be3,Nbd7,h3,e6,Bd3,Be7,Qd2,O-O,O-O-O,b5,Ne5,a5,Nxd7,Bxd7,Ne4,Nxe4,Bxe4,Qb4,Qd3,Rac8,Bxh7+,Kh8,Be4,c5,dxc5,Bxc5,Qxd7,Bxe3+,fxe3,Qxe4,Kb1,Qxc2+,Ka1,Qxg2,Qd4,Rfd8', 'Qh4+,Kg8,Rxd8+,Rxd8,Qxd8+', 'https://lichess.org/training/BvJoi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvK6q', 'Rapid', 'Captaincheckmate', 1913, 'Staloon', 1949, 'd4,c5,dxc5,e5,b4,b6,cxb6,Bxb4+,Bd2,Bxd2+,Qxd2,Qxb6,e4', 'Qb2,Ne2,Qxa1', 'https://lichess.org/training/bvK6q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BVKbA', 'Classical', 'Daniyar137', 1770, 'Nivrithi', 1683, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be3,a6,Be2,Be7,Qd2,Nbd7,f3,b5,a3,Bb7,Nb3,a5,Nxb5,a4,N3d4,Ne5,O-O-O,Rc8,Na7,Rc5,Bb5+,Nfd7,Bxa4,Nc4,Nac6,Qb6,Qb4,Qxb4,axb4,Rh5,Bf2,Bg5+,Kb1,Nd2+,Ka2,O-O,h4,Bf4,g3,Bh6,Ne7+,Kh8,Bxd7', 'Ra8+,Ba4,Rxa4#', 'https://lichess.org/training/BVKbA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVkBy', 'Rapid', 'skygerald', 1809, 'Adolf1', 1787, 'e4,e5,Nf3,Bc5,Bc4,Bxf2+,Kxf2,d5,Bxd5,c6,Bxf7+,Kxf7,Nxe5+,Kf8,Qf3+,Nf6,Rf1,Qd4+,Ke1,Qxe5,Qa3+,Kf7,d3,Qxh2,Qb3+,Be6,Qxb7+,Nd7,Bf4,Qxg2,e5,Rhb8,Qc7,Nd5,Bd2+,Kg8,Qxc6,Kh8,Qxe6,Nxe5,Nc3,Nf3+,Rxf3,Qxf3,Qxd5,Re8+,Ne4,Qh1+,Kf2,Qxa1,Bc3,Rf8+,Ke2,Qf1+,Kd2,Rf2+,Nxf2,Qxf2+,Kd1,Re8,Qh1,Qe2+,Kc1,Qf2,b3,h6', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/bVkBy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVKgj', 'Rapid', 'Temug', 1765, 'Sspud', 1725, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,Nc3,Nc6,Bg5,Be7,Qd2,Bg4,Be2,Qd7,h3,Be6,O-O-O,d5,d4,Bb4,a3,Ne4,Qe3,Bxc3,bxc3,Na5,Nd2,Qa4,Nxe4,Qxa3+,Kb1,dxe4,d5,Bf5,g4,Bg6,Bf4,O-O,h4,f5,h5,Bf7,gxf5,c6,h6,Bxd5,Rxd5,cxd5,hxg7,Rxf5,Qh3,h5,Qxf5,Nb3,cxb3,Qxb3+,Kc1,Qxc3+,Kd1,Qa1+,Bc1,Qd4+,Ke1,Qxg7,Kf1,Qf7,Rg1+,Kf8,Qxf7+,Kxf7,Bxh5+,Ke6,Rg6+,Ke5,Bb2+,Kf4,Rd6,Rf8,Rxd5,e3,Be5+,Ke4,Bd6', 'Rxf2+,Ke1,Kxd5', 'https://lichess.org/training/bVKgj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVKHN', 'Rapid', 'GhahremanMRSSMR', 1759, 'al13ex13', 1730, 'e4,e5,Nc3,Nf6,f4,exf4,Nf3,Bb4,d3,Bxc3+,bxc3,d6,Bxf4,Bg4,Be2,Bxf3,Bxf3,c6,c4,Nbd7,O-O,Ne5,Bxe5,dxe5,Bg4,O-O,Qf3,Nxg4,Qxg4,c5,h4,Rc8,h5,Rc6,Rf5', 'Qd4+,Kh2,Qxa1', 'https://lichess.org/training/bVKHN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVKqX', 'Rapid', 'Fumblessi', 1679, 'stocfish100', 1638, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,d5,e3,h6,Bh4,c5,Nf3,Nbd7,Ne5,Qa5,Qb3,Bxc3+,Qxc3,Qxc3+,bxc3,Ne4,Rc1,Nxe5,dxe5,b6,f3,Ng5,cxd5,exd5,Bb5+,Kf8,O-O,Bb7,f4,Ne4,Bd3,g5,Bxe4,gxh4,Bf3,h3,gxh3,Rg8+,Kf2,Ke7,Rg1,a5,Rcd1,Rxg1,Kxg1,Rd8,a4,Bc6,Ra1,Rg8+,Kf2,f5,exf6+,Kxf6,Be2,c4,Bg4,Re8,Rd1,Rd8,e4,Bxa4,e5+,Kg6,Rg1,Kf7,Bh5+,Kf8,e6,Be8,Re1,Ke7,Bxe8,Rxe8,f5,Rf8,Re5,a4,Rxd5,a3,Rd7+,Kf6,Ra7,Kxf5', 'Rf7+,Rxf7,exf7', 'https://lichess.org/training/bVKqX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvkUi', 'Rapid', 'aadimes', 1888, 'vjcheslav', 2105, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Nxf6+,Nxf6,Bd3,Bg4,c3,e6,O-O,Be7,Bf4,O-O,Bg3,b5,a3,a5,Re1,b4,axb4,axb4,Rc1,Ra2,Qb3,Qa5,Ne5,Rc8,cxb4,Bxb4,Nxc6,Rxc6,Rxc6,Ra1,Rc8+,Bf8,Rxf8+,Kxf8,Qb8+,Ke7,Qd6+,Ke8,Bb5+,Qxb5,Rxa1,Qb7,b4,Be2,Rc1,Nd5,b5,Bxb5,Rb1,Nc3,Rb3,Qc8,Qb8', 'Ne2+,Kh1,Nxg3+,hxg3,Qxb8', 'https://lichess.org/training/bvkUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BVldi', 'Blitz', 'Isolated', 1816, 'Nomn', 1809, 'e4,c5,Nf3,Nc6,Bc4,d6,d4,cxd4,Nxd4,Nf6,Nc3,Ne5,Bd3,Bg4,f3,Bh5,O-O,Qb6,Be3,Qxb2,Nce2,b6,Nf4,Bg6,Rb1,Qxa2,Bb5+,Ned7,Nxg6,hxg6,Nc6,a6,Bd3,Rc8,Nb4,Qe6,Nxa6,Ne5,Bb5+,Nfd7,Bxb6,g5,Nc7+,Rxc7,Bxc7,g6,Bxd7+,Nxd7,Qd3,Bg7,Qb5,Bd4+,Kh1,f5,exf5,gxf5,Rfe1', 'Rxh2+,Kxh2,Qh6+,Kg3,Qh4#', 'https://lichess.org/training/BVldi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BVmKL', 'Rapid', 'edenhochbaum', 1644, 'SERPIC0', 1668, 'd4,Nf6,c4,e6,a3,Nc6,Nc3,d5,Bg5,Be7,Bxf6,Bxf6,e3,O-O,Nf3,Re8,b4,e5,dxe5,Nxe5,Nxd5,Nxf3+,gxf3,Bxa1,Qxa1,c6', 'Rg1,g6,Nf6+', 'https://lichess.org/training/BVmKL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVoln', 'Rapid', 'Calcium237', 1798, 'yas1993', 1755, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nf6,Nc3,Bg4,Be2,Bxe2,Ngxe2,e6,O-O,c5,d5,exd5,exd5,a6,Re1,Be7,Bg5,O-O,Ng3,h6,Nf5,hxg5,Nxe7+,Kh7,Re3,g6,Qb3,b6,Rd1,Qd6,h3,Ra7,Nc6,Nxc6,dxc6,Qxc6,Rde1,Re8,Rxe8,Nxe8,Ne4,Re7', 'Nxg5+,Kg8,Rxe7', 'https://lichess.org/training/bVoln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVoTY', 'Rapid', 'bulbizar', 2203, 'beishani', 2181, 'e4,e6,d4,d5,Nc3,a6,e5,c5,f4,Nc6,Nf3,Nh6,Bd3,cxd4,Ne2,Bc5,h3,O-O,O-O,f6,Kh1,fxe5,fxe5,Nf5,Bxf5,Rxf5,Ng3,Rf8,Bg5,Qc7,Qe2,Bd7,Rad1,Be8,Rde1,b5,Nh4,Bf7,Qg4,Kh8,Bf4,Rac8,Nf3,Rce8,Ng5,Bg6', 'Nxe6,Rxe6,Qxe6', 'https://lichess.org/training/bVoTY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvOyV', 'Rapid', 'Jaime124', 1930, 'bjevtic', 1988, 'd4,d5,Nf3,Nc6,e3,Nf6,c4,e6,a3,b6,Nc3,Bb7,Be2,Be7,O-O,O-O,Qc2,dxc4,Bxc4,Bd6,Bd2,Ne7,Be2,Ned5,Rad1,c5,Bc1,Qc7,h3,Rac8,Nb5,Qb8,Qb1,a6,Nxd6,Qxd6,dxc5,Qxc5,Bd2,a5,Nd4,Nc7,Rc1,Qd6,Rfd1,Be4,Qa2,Rfd8,Bc3,Nfd5,Be1,Nf6,Nb5,Qe7,Rxd8+,Qxd8,Nxc7,Rxc7,Rd1,Rd7,Rxd7,Qxd7,Qb3,Qc7,Qc3,Nd5,Qxc7,Nxc7,f3,Bc6,e4,Bb5,Kf2,Bxe2,Kxe2,Kf8,Kd3,Ke7,Kc4,Kd6,Bg3+,e5,f4,b5+,Kc3,exf4,Bxf4+,Kc6,Bxc7,Kxc7,Kd4,Kd6,b4,axb4,axb4,f6,g3,g5,h4,gxh4,gxh4,h5,Kd3,Ke5,Ke3,Ke6', 'Kf4,Ke7,Kf5,Kf7,e5,fxe5,Kxe5', 'https://lichess.org/training/bvOyV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvpIV', 'Rapid', 'Akainu731', 1703, 'pinkthunder', 1702, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,d3,Bxe4,dxe4,Qxd1+,Kxd1,e6,Be3,Nf6,Bd3,Nbd7,Ke2,Bb4,Rad1,O-O,c3,Ba5,b4,Bb6,Rhe1,Bxe3,fxe3,Rad8,h3,Nb6,e5,Nfd7,e4,Na4,Rc1,Nb2,Rc2,Nxd3,Kxd3,Nxe5+,Ke3,Nc4+,Ke2,Rd7,Rd1,Rfd8,Rxd7,Rxd7,g4,h6,Rc1,Kf8,a4,Ke7,Ra1,a5,b5,c5,h4,f6,g5,hxg5,hxg5,fxg5,Nxg5,Rd2+,Kf3,Kf6,Nh7+,Ke5,Rg1,Rd3+,Kf2,Rxc3,Rxg7,b6,Ng5,Ra3,Rg6,Kd4,Rxe6,Rxa4,Ke2,Rb4,Nf3+,Kc3,Rg6,a4,Rg3,Kb2,Ne1,a3,Nd3+,Kb1,Nxb4,cxb4,Rb3+,Kc2,Rxb4,Kc3,Ra4', 'Kb3,Ra6,a2', 'https://lichess.org/training/bvpIV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvQnS', 'Rapid', 'Ma-Se-Kind', 1634, 'waguta_brooklyn619', 1687, 'd4,Nf6,Bf4,e6,Nf3,c5,e3,d5,Nbd2,Nc6,Bb5,Bd7,Bxc6,Bxc6,Ne5,Bb5,c3,cxd4,exd4,Bd6,a4,Ba6,b4,Qc7,b5,Bxb5,axb5,Qxc3,Nxf7', 'Bxf4,Nxh8,Bxd2+', 'https://lichess.org/training/bvQnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvR74', 'Rapid', 'AmoryBlaine', 1770, 'r4z0r11', 1713, 'd4,f5,Nf3,Nf6,Bf4,d5,c4,c6,Nc3,e6,a3,Ne4,e3,Nxc3,bxc3,Bd6,cxd5,cxd5,Bd3,Bxf4,exf4,O-O,O-O,Nd7,Re1,Qf6,Ng5,Nb6,Qh5,h6,Nh3,Bd7,Qe2,Rac8,Bb5,Bxb5,Qxb5,Rxc3,Qb4,Rfc8,Rad1,Qg6,f3,Rxf3,Nf2,Rxf4,Qe7,Nc4,Rxe6,Qh5,Qxb7,Rxf2,Qxc8+,Kh7,Kxf2,Qxd1,Re2,Qxd4+,Ke1', 'Qg1#', 'https://lichess.org/training/bvR74');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVRYi', 'Rapid', 'pixon', 1955, 'r_walker', 2051, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,d4,e6,g3,c6,Bg2,Nf6,Nf3,Bd6,O-O,Nbd7,e4,Bc7,b4,O-O,a4,e5,d5,c5,d6,Bb6,a5,cxb4,Nb5,Bxa5,Qa4,Bb6,Bg5,a6,Bxf6,Nxf6,Nc7,Bxc7,dxc7,Qxc7,Rac1,Qd6,Rfd1,Qe7,Qa5,Nxe4,Rc7,Qf6,Qxb4,Ng5,Nxg5,Qxg5,Qc5,Qg4', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/bVRYi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BVspC', 'Rapid', 'michlin27', 2127, 'Chess76123', 2164, 'e4,e6,Nc3,d5,exd5,exd5,Qe2+,Be7,d4,Nf6,Bg5,O-O,Bxf6,Bxf6,O-O-O,Re8,Qf3,Be6,Bd3,c6,Nge2,Nd7,Nf4,Bxd4,Bxh7+,Kxh7,Rxd4,Kg8,Qh5,Nf8,Re1,Qf6,Nxe6,Rxe6,Rxe6,Qxe6,Rh4,Ng6,Qh7+,Kf8,Rh3,Qe1+,Nd1,Re8,Rf3,Re2,Qxg6', 'Qd2+,Kb1,Qxd1#', 'https://lichess.org/training/BVspC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BVsxA', 'Rapid', 'Kadhaver', 1677, 'znarf7', 1658, 'e4,e6,f4,c6,Nf3,Bd6,e5,Bc7,d4,Qe7,Bd2,Bb6,c3,Bc7,Bd3,b6,b4,Bb7,Na3,d6,Nc4,dxe5,Ncxe5,Nd7,Nxd7,Qxd7,O-O,O-O-O,Be3,Nh6,Qa4,Kb8,Ba6,Ng4,Bf2,Bxf4,Bxb7,Kxb7,Rad1,h5,h3,Ne3,Bxe3,Bxe3+,Kh1,f6,c4,g5,b5,cxb5,cxb5,g4,Qa6+,Kb8,Qa3,gxf3,Qxe3,fxg2+,Kxg2,Qb7+,Qf3,Rhg8+,Kh1,f5,Qxb7+,Kxb7,d5,e5,Rxf5,e4,Re1,Rge8,Rxh5,e3,Rh7+,Kb8,Rh5,e2,Kg2,Rd7,Kf2', 'Rf7+,Kg1,Rg8+,Kh2,Rf2+', 'https://lichess.org/training/BVsxA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvT25', 'Rapid', 'poiuyt5', 2103, 'pravin210', 2102, 'd4,Nf6,e3,e6,f4,d5,Nf3,c5,c3,c4,Be2,Nc6,O-O,Be7,Ne5,O-O,Nd2,Nd7,Bf3,Ndxe5,fxe5,f6,exf6,Bxf6,e4,dxe4,Bxe4,e5,d5,Ne7,Nxc4,b5,Ne3,Bb7,Ng4,Bxd5,Nxf6+,Rxf6,Rxf6,gxf6,Qg4+,Kf7,Bh6,Bxe4,Qxe4,Ng6,Qb7+,Ne7,Rf1,Kg6,Be3,a6,Qe4+,Kg7,Qf3,Nd5,Qg3+,Kh8,Bh6,Qg8,Qf3,Rd8,g3,Qg6,Bc1,e4,Qf5,Qxf5,Rxf5,e3,Kf1,Kg7,Ke2,Kg6,Rf1,Re8,Rf3,Kg5,h3,f5,Ke1,Re5,a3,h5,Ke2,h4,Bxe3+,Nxe3,Rxe3', 'Rxe3+,Kxe3,hxg3', 'https://lichess.org/training/bvT25');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVtvC', 'Rapid', 'skak14', 1809, 'ELGAZAR1', 1775, 'e4,e5,d3,Nc6,Nf3,Nf6,Be2,Bc5,O-O,O-O,h3,d5,Nc3,dxe4,Nxe4,Nxe4,dxe4,Be6,a3,Qf6,Bg5,Qg6,Qc1,h6,Bd2,Nd4,Nxd4,Bxh3,Bf3,Bxd4,c3,Bc5,Be3,Bxe3,Qxe3,Be6,Rad1,f5,exf5,Bxf5,Qxe5,Rae8,Qd5+,Be6,Qxb7,Rxf3,Qxf3,Bg4,Qd5+,Kh7,Rde1,Rf8,Qe4,Bf5,Qe3,Kh8,b4,Bg4,f3,Bh3,Rf2,Bd7,Qe7,Re8,Qxd7,Rxe1+,Kh2,Qh5+,Qh3,Qe5+,Qg3', 'Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/bVtvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVuai', 'Blitz', 'zharenkovpavel', 1951, 'Olla2314', 1921, 'Nc3,Nf6,e4,d6,Bc4,g6,d3,Bg7,Nge2,O-O,O-O,e5,a3,Nbd7,h3,a6,Ng3,b5,Ba2,c5,Nce2,Bb7,f4,exf4,Bxf4,Ne5,Bg5,Ned7,Qd2,Qe8,Rab1,Qe5,Bh6,Bxh6,Qxh6,c4,d4,Qe7,e5,dxe5,dxe5,Qxe5,c3,Rae8,Rbe1,Qd5,Nf4,Qc6,Rxe8,Rxe8,Rf2,Ne4,Nxe4,Qxe4,Qg5,Qe1+,Rf1,Qe3+,Kh1,Nf8,Qg4,Ne6,Nh5,Ng5,Nf6+,Kg7,Nxe8+,Kf8,Nf6,Kg7,Qd4', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/bVuai');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BVVmd', 'Blitz', 'Maherinjo92', 2114, 'ThatsKarma', 2112, 'b3,Nf6,Bb2,g6,e4,d6,f4,Bg7,Nf3,O-O,d3,c5,Nbd2,Nc6,Be2,Bg4,O-O,b5,a3,a5,h3,Bxf3,Bxf3,a4,Bxf6,Bxf6,e5,Nxe5,fxe5,Bxe5,Ra2,axb3,Nxb3,Ra7,d4,cxd4,Nxd4,Qb6,c3,b4,Qb3,Bxd4+,cxd4,Qxd4+,Kh1,bxa3,Rxa3,Rc7,Rfa1,Rfc8,Ra8,Kg7,Rxc8', 'Qxa1+,Qd1,Qxd1+,Bxd1,Rxc8', 'https://lichess.org/training/BVVmd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bvXnF', 'Blitz', 'definitelynotbullet', 2296, 'Areyoumadtt', 2336, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Nbd7,e3,c6,Qc2,Be7,Bd3,Nf8,Nf3,Ne6,Bh4,h6,O-O,O-O,Ne5,Nd7,Bxe7,Qxe7,f4,Nxe5,fxe5,b6,Ne2,Bb7,Ng3,Qg5,Nf5,c5,h4,Qg4,Qf2,cxd4,exd4,Rfe8,Nxh6+,gxh6', 'Qxf7+,Kh8,Qh7#', 'https://lichess.org/training/bvXnF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BVYgy', 'Rapid', 'bigkim', 1885, 'aaknot', 2098, 'Nf3,c5,g3,Nc6,d4,cxd4,Nxd4,d6,Bg2,Bd7,O-O,Nf6,c4,g6,Nc3,Bg7,b3,O-O,Bb2,a6,Nd5,Nxd5,cxd5,Nxd4,Bxd4,Bxd4,Qxd4,Bb5,Rfe1,Rc8,a4,Bd7,Qa7,Qc7,Qe3,Bf5,Rac1,Qd7,h4,Rxc1,Rxc1,e5,dxe6,Bxe6,Qd3,d5,Rd1,Rd8,Qd4,Qc6,e4,Qc2,exd5,Qxb3,d6,Bd7,Re1,Qxa4,Qf6,Rf8,Bxb7', 'Qb4,Re7,Qxb7', 'https://lichess.org/training/BVYgy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bVzvB', 'Rapid', 'Teafour', 2127, 'grace-mulenga', 2068, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,Be7,Bxf6,Bxf6,e3,O-O,Nf3,c5,Bd3,Nc6,dxc5,Bxc3+,bxc3,Qa5,Qb3,Qxc5,O-O,b6,Nd4,f4,Qb5,Qd6,Be4,Bb7,Rad1,Qc7,c5,Nxd4,Rxd4,Bxe4,Rxe4,bxc5,exf4,Rab8,Qd3,Rf6,g3,d5,Re5,c4,Qe2,Re8,Re1,Qd6,f5,Kf7,Qh5+,Kf8,Qxh7', 'Rh6,Qxh6,gxh6', 'https://lichess.org/training/bVzvB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bW0RI', 'Rapid', 'GalK1', 1865, 'Vicentesanter1971', 1931, 'e4,e5,Nf3,d6,g3,Nf6,d3,h6,Bg2,b6,Nbd2,Bb7,c3,Be7,O-O,O-O,Re1,Nbd7,d4,c6,Nb3,Rc8,Nbd2,Nh7,Nf1,f5,exf5,Rxf5,Ne3,Rf8,dxe5,Nxe5,Nxe5,dxe5,Ng4,Qxd1,Rxd1,Bc5,Be3,Bxe3,Nxe3,Rcd8,Ng4,Rfe8,Re1,Rd2,Nxe5,Rxb2,Nxc6,Rxe1+,Rxe1,Bxc6,Bxc6,Rxa2', 'Bd5+,Kf8,Bxa2', 'https://lichess.org/training/bW0RI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bW0V4', 'Rapid', 'napoli_2020', 2005, 'hoviedo45', 1927, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,b5,a3,Bb7,Bd3,Nc6,Nxc6,Bxc6,O-O,e5,Be3,Be7,f4,Qb8,Qf3,a5,fxe5,dxe5,Nd5,Bxd5,exd5,Bd6,Bg5,Be7,d6,Bd8,Bxf6,Bxf6,Qc6+,Kf8,Bxb5,Qa7+,Kh1,Rb8,Rae1,Qb6,a4,Qxc6,Bxc6,Rxb2,c4,Rb6,d7,Rxc6', 'Rxf6,gxf6,d8=Q+', 'https://lichess.org/training/bW0V4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BW2EV', 'Classical', 'AndreaCica', 1760, 'soir73', 1736, 'd4,Nf6,Nf3,g6,c4,d5,Nc3,Bg7,Bg5,O-O,Qd2,dxc4,Bh6,b5,Bxg7,Kxg7,Nxb5,Ba6,Nc3,c5,dxc5,Qa5,e3,Nbd7,Be2,Rfd8,Nd4,Nxc5,O-O,Nce4', 'Nxe4,Qxd2,Nxd2', 'https://lichess.org/training/BW2EV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bw2jZ', 'Rapid', 'morozevich2017', 1818, 'shreya357', 1669, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be2,Be7,O-O,O-O,Kh1,b6,f4,Bb7,Be3,Nxe4,Bf3,Nxc3,bxc3,d5,c4,Nd7,Qe2,Rb8,Rad1,dxc4,Qxc4,Bxf3,Nxf3,Rc8,Qe2,Qc7,g4,Qxc2', 'Qxc2,Rxc2,Rxd7', 'https://lichess.org/training/Bw2jZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bw3jK', 'Blitz', 'piasprong', 1540, 'aspettando', 1508, 'd4,c6,Nf3,d5,g3,Bf5,Bg2,Nd7,O-O,e5,Re1,e4,Nh4,Bg6,Nxg6,hxg6,Nd2,Qc7,c4,O-O-O,cxd5,cxd5,Qa4,Kb8,Nb3,Bd6,Nc5,Ndf6,Qb3,Bxc5,dxc5,Qxc5,Be3,Qc6,Rac1,Qa6,Bg5,Rd6,Bf4,g5,Bxd6+,Qxd6,Red1,b6,e3,Ng4,Bxe4,Rxh2,Rxd5,Qh6,Qc3,Rh1+,Bxh1', 'Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/bw3jK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bw4Mg', 'Rapid', 'strat7', 1662, 'mattiboo', 1666, 'd4,Nf6,c4,g6,Nf3,Bg7,e3,d5,Nc3,Nc6,a3,Bg4,b4,a6,cxd5,Nxd5,Bb2,O-O,Be2,Nxc3,Bxc3,Qd5,h3,Bf5,O-O,h5,Bd3,Bxd3,Qxd3,Rfe8,Rfe1,e5,Nd2,exd4,Bxd4,Nxd4,exd4,Rxe1+,Rxe1,Qxd4,Qxd4,Bxd4,Re7,Rc8,Nf3,Bb2,a4,Bc3,b5,axb5,axb5,Bb4,Rd7,Bd6,Ng5,Rf8,Ne4,Be5,g3,f5,Nc5,b6,Ne6,Rf7', 'Rd8+,Kh7,Ng5+', 'https://lichess.org/training/Bw4Mg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bw4mi', 'Rapid', 'shaarik1', 1793, 'sirlethain', 1726, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,e5,Nf5,Nf6,Nc3,Bb4,Nxg7+,Kf8,Bh6,Kg8,Nf5,Bf8,Bg5,h6,Bh4,Qb6,Bxf6,Qxf6,Nd5,Qd8,h4,d6,Qg4+,Kh7,Qh5,Kg8,g4,Nd7,g5,hxg5,Qxg5+', 'Qxg5,hxg5,Rxh1', 'https://lichess.org/training/bw4mi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bw75X', 'Rapid', 'realmatrice', 1932, 'moonbeam', 2195, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,cxd4,cxd4,Nc6,Ngf3,Nb6,Bb5,Bd7,Bxc6,bxc6,O-O,c5,Nb3,cxd4,Qxd4,Be7,Kh1,O-O,Ng5,f6,exf6,Bxf6,Qd3,Bxg5,fxg5,Rxf1+,Qxf1,e5,Bd2,Nc4,Bc3,Qxg5,Nc5,Bc6,Re1,Rf8', 'Qxf8+,Kxf8,Ne6+,Kf7,Nxg5+', 'https://lichess.org/training/Bw75X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bW8uQ', 'Rapid', 'ForadeControle', 1931, 'essamhamdan', 1852, 'e4,c5,Nc3,e5,f4,d6,Nf3,exf4,d4,Nf6,dxc5,dxc5,Bxf4,Qxd1+,Rxd1,b6,Bb5+,Bd7,Bc4,Be7,Nd5,Nxd5,Bxd5,Bc6,O-O,O-O,Ne5,Bxd5,Rxd5,Bf6,Ng4,Bxb2,Bd6,Bd4+,Rxd4,cxd4,Bxf8,Kxf8,Ne5,f6,Nf3,Nc6,Rd1,Rd8,Kf2,Ke7,Ke2,Ke6,Kd3,Nb4+,Kc4,Nxc2,Rd2,Ne3+,Kd3,Ng4,Nxd4+,Ke5,Kc3,Rc8+,Kd3,Nxh2,Rf2,Ng4,Rf5+,Kd6,Rd5+,Ke7,Nf5+,Kf7', 'Nd6+,Ke6,Nxc8', 'https://lichess.org/training/bW8uQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bw9Td', 'Rapid', 'xxbocmanxx', 1659, 'nodir85umarov', 1644, 'e4,e5,Nf3,Nc6,Bb5,f6,Bxc6,dxc6,Nxe5,fxe5,Qh5+,g6,Qxe5+,Qe7,Qxh8,Nf6,O-O,Kd7,d4', 'Bg7,Qxg7,Qxg7', 'https://lichess.org/training/Bw9Td');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bwabU', 'Blitz', 'GM AdriD', 2662, 'FM P--H--I--L--O--U', 2414, 'e4,c5,b4,cxb4,a3,d5,exd5,Qxd5,Nf3,Bg4,axb4,Qe4+,Qe2,Bxf3,gxf3,Qxb4,Ba3,Qb6,Nc3,Nc6,Rb1,Qa5,Qb5,Qxb5,Nxb5,O-O-O,Bh3+,e6,Bxf8,Rxf8,Nd6+,Kc7,Nb5+,Kb8,Rg1,g6,Nd6,Kc7,Nb5+,Kb8,Nd6,b6,Rg4,Nge7,Rf4,f5,Ra4,e5,Bf1,Rf6,Nb5,Rd8,Bc4,Rd7,c3,Nc8,Ke2,Nd6,Na3,Nb7,Bb5,Nc5,Rc4,Kc7,Nc2,Rdd6,Bxc6,Kxc6,d4,exd4,cxd4,Rde6+,Ne3,f4,dxc5,bxc5,Ra4,fxe3,fxe3,Rf7,Ra6+,Kd5,Rd1+,Ke5,Ra5,Rc7,Rc1,Rec6,Rc3,Kf6,Rc4,h5,h4,Ke6,e4,Kd6,Ke3,Rb7,Rc3,c4,Rd5+,Ke6,Kd4,Rb3,Ra5,a6,f4,Rb5,Ra4,a5,Raxc4,Rd6+,Ke3,Rb4,Rc5,Rdd4,Re5+,Kd6,Rc8,Kd7,Rg8,a4,Rg7+,Kd8,Rg8+,Kd7,Rg7+,Kd8,Rxg6,a3,Rg1,Rdc4,f5,Ra4,Ra1,a2,Kf4,Ra6,Rd5+,Ke7,Rd2,Rca4,Re2,Kf6,Rg2,R6a5,Rg6+,Kf7,Rg5,Rb4,Rg2,Rba4,Rb2,Ra7,Rb5,Re7,Kf3,Rexe4,Rxa2,Rf4+,Ke3,Rfe4+,Kd3,Rad4+,Kc3,Rxh4', 'Ra7+,Kf6,Ra6+', 'https://lichess.org/training/bwabU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bwB5T', 'Rapid', 'luchescu', 2056, 'Sefashehu', 2033, 'e4,c5,Bc4,e6,Bb3,a6,d3,b5,a4,Bb7,axb5,axb5,Rxa8,Bxa8,Nc3,Bc6,Nf3,Nf6,O-O,Be7,Bf4,O-O,Qa1,Qb6,Ne5,d6,Nxc6,Nxc6,Be3,Nd4,Bxd4,cxd4,Ne2,e5,f4,Qc6,fxe5,dxe5,Ng3,g6,Qa7,Qc5', 'Qxc5,Bxc5,Rxf6', 'https://lichess.org/training/bwB5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bwB8Z', 'Classical', 'berkayykaraa', 1631, 'Charlo7', 1865, 'c4,e5,e4,Nf6,Nc3,Bc5,d3,d6,Nf3,Nc6,Nd5,Bg4,Be2,Bxf3,Bxf3,h6,Qb3,Nd4,Qxb7,Nxd5,Qxd5,Nc2+,Ke2,Nxa1,Bh5,O-O,Bxh6,gxh6,Rxa1,Bxf2,Kxf2,Qh4+,g3,Qxh5,Kg2,Kh7,Rf1,Rab8,b3,Qg4,Qc6,Qc8,Qd5,Qe6,Qa5,Qd7,Qxa7,Ra8,Qf2,c5,Qd2,Ra7,Rf6,Qg4,Rxh6+,Kg7', 'h3,Qg6,Rxg6+', 'https://lichess.org/training/bwB8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWBlz', 'Rapid', 'DoobleTrooble', 2169, 'phaseTransition', 2200, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,h6,O-O,d6,Re1,a6,Ba4,b5,Bb3,Na5,Nbd2,Nxb3,axb3,c5,Nf1,Bg4,Ng3,g6,h3,Be6,c3,Bg7,d4,exd4,cxd4,O-O,b4,c4,d5,Bc8,Nd4,Nd7,f4,Re8,Nxb5', 'Qb6+,Kh2,Qxb5', 'https://lichess.org/training/BWBlz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BwBY7', 'Rapid', 'sdadaf', 1758, 'Crimson512', 1825, 'e4,Nc6,Nf3,e5,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Bc5,O-O,O-O,Bg5,Be7,Nc3,d6,f4,Nd7,Bxe7,Qxe7,Qf3,Nc5,Be2,f5,exf5,Bxf5,Qxc6,Bxc2,Bc4+,Kh8,Rfe1,Qd8,Nd5,Rc8,b4,Nd7,Ba6,Bg6,Bxc8,Qxc8,Ne7,Qd8,Nxg6+,hxg6,g3,Nf6,Rac1,Ng4,Qxc7,Qf6,Qe7,Qd4+,Kg2', 'Qf2+,Kh3,Qxh2+,Kxg4,Qh5#', 'https://lichess.org/training/BwBY7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWCX6', 'Blitz', 'Oswaldo_haro', 1608, 'SachoAgainstYou', 1612, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,cxd4,Nxd4,Nge7,g3,Nxd4,Qxd4,Nc6,Qe3,b6,Bg2,Bc5,Qe2,a5,O-O,Ba6,c4,Bxc4,Qd2,Bxf1,Bxf1,Nxe5,Bb5+,Ke7,Qe2,Nd7,Bg5+,f6,Be3,Kf7,Bxd7,Qxd7,Bxc5,bxc5,Nc3,Rab8,Nd1,Rhe8,Ne3,d4,Ng4,e5,h3,Qf5,Nh2,Rb4,a3,Rb6,Qc4+,Qe6,Qxc5,Rc8,Qxa5,Rxb2,Qa7+,Kg6,Qa4,Rcc2,Rf1,Qxh3,Qe8+,Kh6,Nf3,Qf5,Kg2,e4', 'Rh1+,Qh5,Qxh5#', 'https://lichess.org/training/BWCX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWD8D', 'Rapid', 'CM Willemw', 2354, 'Abundance-of-pieces', 2298, 'e4,c5,Nf3,e6,d3,d5,Nbd2,Nc6,g3,Nf6,Bg2,Be7,O-O,O-O,e5,Nd7,Re1,b5,Nf1,a5,h4,b4,Bf4,a4,Ng5,h6,Nh3,Ba6,c4,bxc3,bxc3,Qa5,c4,Nb6,cxd5,Nxd5,Bxd5,exd5,Qg4,Kh8,e6,Nd4,exf7,Rxf7,Ne3,Bc8,Qh5,Bxh3,Qxf7,Nf3+,Kh1,Nxe1,Qxe7,Qc3', 'Be5,Qxe5,Qxe5', 'https://lichess.org/training/BWD8D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWdcd', 'Rapid', 'Solomikieee', 1911, 'ArbazK', 1892, 'e4,e5,Nf3,Nf6,d3,d6,h3,Be7,Bg5,O-O,Bxf6,Bxf6,Nc3,Nc6,Be2,Be6,O-O,a6,Nh2,Nd4,f4,exf4,Rxf4,Bg5,Rf1,Be3+,Kh1,Qh4,Bg4,Bxg4,Nxg4,Bg5,Ne2,Ne6,d4,h5,Nf2,Nf4', 'g3,Nxe2,gxh4', 'https://lichess.org/training/BWdcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWdJp', 'Rapid', 'Molotov007', 1928, 'first_none_second', 1912, 'e4,e5,Nf3,d6,Bc4,Be7,d3,Nf6,c3,O-O,O-O,Bg4,Nbd2,c6,Re1,b5,Bb3,a5,Bc2,a4,Nf1,Nbd7,h3,Bh5,Ng3,Bg6,Nh4,d5,Nhf5,Bc5,d4,Bxf5,Nxf5,Bb6,Bg5,Qc7,Ne7+,Kh8,exd5,cxd5,dxe5,Bxf2+,Kxf2,Nxe5,Rxe5,Qxe5,Nf5,Ne4+,Bxe4,dxe4,Qg4,a3,Bf4,Qf6,Be3,Rad8,b3,Qxc3', 'Bd4,Qxd4+,Nxd4', 'https://lichess.org/training/BWdJp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWdkh', 'Rapid', 'Isterling', 1879, 'EightyPercentChess', 1847, 'e4,e5,Nf3,d6,Bc4,Nc6,O-O,Na5,Bb3,Nxb3,axb3,Be6,d3,Qf6,Bg5,Qg6,Nc3,f6,Be3,O-O-O,Rxa7,f5,exf5,Bxf5,Nh4,Qf6,Nxf5,Qxf5,f4,exf4,Rxf4,Qe5,Qg4+,Kb8,Re4,Nf6,Qf3,Nxe4,Nxe4,Re8,Nxd6', 'Qxe3+,Qxe3,Rxe3', 'https://lichess.org/training/bWdkh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWdUd', 'Rapid', 'drillinger', 1787, 'lntro', 1937, 'e4,c5,Bc4,d6,Qf3,Nc6,Bd5,Nf6,Nc3,Nxd5,Nxd5,Nd4,Qd1,Bg4,f3,Bh5,c3,Ne6,Ne2,g6,O-O,f5,exf5,gxf5,Re1,Bf7,c4,Qd7,d4,O-O-O,dxc5,dxc5,Qb3,Nd4,Nxd4,cxd4,Bf4,e6,Nf6,Qe7,Be5,d3,Rad1,Bg7,Nd5,exd5,Bxg7,Qc5+,Kh1,Rhg8,Bf6,dxc4,Qc3,Rd5,Re7,Qf2,Qxc4+', 'Rc5,Qxc5+,Qxc5', 'https://lichess.org/training/bWdUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BwdZJ', 'Rapid', 'SailfinplecJH', 1836, 'penpalrdro', 1939, 'e4,e6,e5,d5,exd6,Bxd6,d4,Nf6,Nf3,O-O,Be3,c6,Be2,Nbd7,c4,Bb4+,Nbd2,Qa5,Qc2,Bxd2+,Bxd2,Qd8,O-O,Qe7,a3,c5,dxc5,Nxc5,Bb4,a5,Bxc5,Qxc5,b4,axb4', 'axb4,Qxb4,Rxa8', 'https://lichess.org/training/BwdZJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWeKn', 'Rapid', 'neoser16', 1618, 'Nottimeyet', 1604, 'e4,c6,Qh5,g6,Qf3,Nf6,Bc4,d6,d4,e5,dxe5,dxe5,Bg5,Bg7,Nc3,Be6,Bxf6,Bxf6,Bxe6,fxe6,Nge2,Rf8,O-O,Be7,Qh3,Bc5,Qxh7,Qf6,Qxb7,Bxf2+,Kh1,Qh4,Qxa8', 'Qxh2+,Kxh2,Rh8#', 'https://lichess.org/training/bWeKn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bwEUg', 'Classical', 'syhner', 1832, 'Leoloch', 1899, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,Nf6,Re1,Bg4,d3,Nd7,c3,Nce5,Nbd2,a6,Bxd7+,Qxd7,Qe2,e6,h3,Bh5', 'Nxe5,Bxe2,Nxd7', 'https://lichess.org/training/bwEUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWEv2', 'Rapid', 'Mathis_Maisel', 1899, 'DrChess17', 1828, 'e4,e5,Bc4,Nf6,d4,exd4,e5,d5,exf6,dxc4,Nf3,Nc6,O-O,Qxf6,Bg5,Qd6,Re1+,Be6,Nbd2,Be7,Ne4,Qd7,Bxe7,Kxe7,Nc5,Qc8,Ng5,h6,Ngxe6,fxe6,Rxe6+,Qxe6,Nxe6,Kxe6,Qe2+,Kd5,Qh5+,g5,Qf7+,Kc5,Qxc7,Rhe8,Qxb7,Rab8,Qf7,Re2,Qf5+,Re5,Qf3,Rxb2,Qa3+,Rb4,g3,Kb5,Qc1,a5,a4+,Kc5,c3,d3,cxb4+,Nxb4,Qc3,Re2,Rc1,Re4,f3,Rd4,Kf2,Na2,Qa3+,Nb4,Qc3,d2,Rd1,Nd3+,Ke3,Nb4,Rxd2', 'Nd5+,Kf2,Nxc3', 'https://lichess.org/training/BWEv2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWfOG', 'Blitz', 'WeirdFallingRooster', 1656, 'alwazn', 1664, 'e4,e5,Bc4,Nc6,Qh5,Qf6,Nc3,g6,Qf3,Qxf3,Nxf3,d6,Nd5,Rb8,Nxc7+,Kd7,Nd5,Nge7,Nf6+,Kd8,Ng5,Kc7,Nxf7,Bg7,Nxh8,Bxh8,Nd5+,Nxd5,Bxd5,Ne7,d3,Nxd5,exd5,Bf5,O-O,h5,Be3,Bf6,Bxa7,Ra8,Be3,g5,a4,g4,f4,exf4,Bxf4,Bxb2,Ra2,Bd4+,Kh1,Bg6,Bg5,Re8,h3,gxh3,gxh3,Re2,Raa1,Bxa1,Rxa1,Rxc2,Rf1,Bxd3,Rf7+,Kb6,a5+,Kxa5,Rxb7', 'Be4+,Kg1,Rg2+,Kf1,Rxg5', 'https://lichess.org/training/bWfOG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bwgJc', 'Rapid', 'magic_bw', 1878, 'Mr-Pink', 1923, 'd4,d5,Bf4,Nf6,e3,Bg4,Nf3,Nc6,Nbd2,e6,c3,Bd6,Bg3,Qe7,Qb3,Bxg3,hxg3,O-O-O,Bb5,Qd6,a4,a6,Bxc6,Qxc6,Ne5,Qe8,c4,Bf5,c5,c6,Ndf3,Nd7,Qc3,f6,Nxd7,Rxd7,b4,e5,O-O,e4,Nd2,Kd8,b5,Ke7,bxc6,bxc6,Rfb1,Ra7,a5,Qd7,Rb6,Rc8,Rab1,Rcc7,Qb3,Bg4,Qa4,Be2,Nb3,Bb5,Qa2,f5,f3,Qe6,Qf2,g5,g4,f4,Nd2,Ra8,Re1,Rf8,fxe4,dxe4,exf4,Rxf4,Qxf4,gxf4,Rxe4,Rc8,Kf2,Rd8,Rxe6+,Kxe6,Nf3,Kd5,Rb7,Kc4,Rxh7,Kb4,g5,Kxa5,g6,Rg8,g7,Bc4,Ng5,Bd5,g3,Kb4,gxf4,Kc4,Nf3,a5,f5,a4,f6,a3,Ng5', 'a2,f7,Bxf7', 'https://lichess.org/training/bwgJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWGmW', 'Rapid', 'ricardoalvesdasilva', 1902, 'ko33go', 1793, 'e4,c6,f4,d6,Nf3,f5,e5,d5,d4,e6,Bd3,Nh6,c3,Be7,Be3,Bh4+,g3,Be7,Nbd2,Ng4,Bg1,Nd7,h3,Nh6,Qe2,c5,Be3,Qb6,O-O-O,c4,Bc2,Qc6,Rdg1,b5,g4,Rb8,gxf5,exf5,Rxg7,b4,Nb1,b3,axb3,cxb3,Bd1,Ba6,Qg2,Bd3,Nfd2,a5,Bxb3,Bxb1,Nxb1,Rxb3,Nd2,Rxc3+', 'bxc3,Qxc3+,Kd1', 'https://lichess.org/training/bWGmW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWhQF', 'Rapid', 'maths_maths', 1574, 'TequilaShot', 1577, 'd4,c6,c4,d5,Nf3,Bg4,Nc3,Bxf3,exf3,Nf6,cxd5,cxd5,Bb5+,Nc6,O-O,e6,a3,Bd6,b4,O-O,Be3,a6,Be2,Qc7,f4,Bxf4,Bxf4,Qxf4,b5,Nxd4,g3,Nxe2+,Nxe2,Qd6,bxa6,Rxa6,a4,Qb4,Qc2,Rfa8,Rfb1,Qe7,Nc3,Rc6,Qb3,Rc7,Nb5,Rc4,Kg2,Ne4,Ra2,Rac8,Rbb2,Nc5,Qd1,Nxa4,Rxa4,Rxa4,Qxa4,Qf6,Rc2,Rxc2', 'Qa8+,Rc8,Qxc8+,Qd8,Qxd8#', 'https://lichess.org/training/bWhQF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWhub', 'Blitz', 'FM federerchi', 2413, 'Nanidesu_ka', 2392, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,Nf6,dxe5,Nxe4,Qd5,O-O,Qxe4,Re8,O-O,d6,Bd3,g6,Bg5,Qd7,Qh4,Nxe5,Nxe5,Rxe5,f4,Bb6+,Kh1,Re3,Bc2,Qc6,Bd1,Qb5,Re1,Bf5,Nd2,Qb2,Nc4', 'Rxe1+,Qxe1,Qxa1', 'https://lichess.org/training/bWhub');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BwiQZ', 'Rapid', 'Ant-on_35', 1702, 'zigoyee', 1724, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Qf6,Qd3,Bd7,Qe3,Qe5,Nc3,Nf6,f3,Be7,Nd5,Nxd5,Bxd5,c6,Bc4,O-O,O-O,b6,Rd1,Be6,Bb3,d5,exd5', 'Bc5,Qxc5,bxc5', 'https://lichess.org/training/BwiQZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bwITj', 'Rapid', 'S206', 1844, 'RTFManuel', 1795, 'e4,c5,Bc4,e6,Nf3,Nc6,d3,a6,a4,Nge7,Be3,d5,exd5,Nxd5,O-O,Nxe3,fxe3,Be7,e4,Nd4,Nxd4,Qxd4+,Kh1,Qxb2,Nd2,Bf6,Rb1,Qd4,Qf3,O-O,Nb3,Qd6,Rf2,b6', 'e5,Bxe5,Qxa8', 'https://lichess.org/training/bwITj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bwJtq', 'Blitz', 'ChessMada', 1798, 'SahinErenAslanturk', 1814, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Bd6,Bg5,O-O,Nbd2,Nbd7,O-O,c6,c4,dxc4,Nxc4,Bc7,a3,b5,Ncd2,Bb7,b4,Qc8,Qb3,Bd8,Rad1,Nd5,Bxd8,Qxd8,Ne4,N7f6,Nc5,Rb8,Ne5,Re8,Nxc6,Bxc6,Bf3,Nd7,Bxd5,Nxc5,Bxc6,Nxb3,Bxe8,Qxe8,Rfe1,Qd7,d5,g6,d6,Rc8,Re7,Qf5,d7,Rd8', 'Re8+,Kg7,Rxd8,Qc2,Rg8+,Kxg8,d8=Q+', 'https://lichess.org/training/bwJtq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWjYr', 'Rapid', 'ajfirecracker', 1897, 'mabiro69', 1897, 'Nc3,d5,e4,d4,Nce2,e5,Nf3,Bd6,Ng3,Ne7,Bc4,O-O,h3,a6,O-O,b5,Bb3,c5,a3,c4,Ba2,Nbc6,d3,Be6,Nh2,Rc8,f4,f6,f5,Bf7,Ng4,cxd3,Bxf7+,Rxf7,cxd3,Na5,Bd2,Nec6,b4,Nb7,Rc1,Rfc7,Qb3+,Kh8,Rc2', 'Nca5,bxa5,Rxc2', 'https://lichess.org/training/BWjYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWnAT', 'Rapid', 'zaiusbilong_xxx', 1763, 'Sergey_solo123', 1670, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,h6,O-O,Nf6,Re1,Be7,c3,O-O,d4,d6,dxe5,Nxe5,Nxe5,dxe5,Qf3,c6,Qg3,Nh5,Qf3,Nf6,Bb3,Qc7,Qg3,Nh5,Qg6,Nf4,Bxf4,exf4,Qh5,Be6,Bxe6,fxe6,Nd2,b5,Nf3,Rad8,Ne5,Qa7,Rad1,Bc5,Rf1,Rxd1,Rxd1,Bxf2+,Kh1,Be3,Qg6,Qe7,Rd7,Qf6,Qh5,Qg5,Qxg5,hxg5,Nxc6,f3,gxf3,Rxf3,Ne7+,Kh7,Rd6,Rf6,Rxa6,g4,Ra5,Bc5,Nc6,Rf4,Rxb5', 'Rf1+,Kg2,Rg1#', 'https://lichess.org/training/BWnAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWnmC', 'Classical', 'masoodahmed', 1765, 'chengiskhan1', 1801, 'e4,c5,f3,e5,d3,Nc6,Be3,Nf6,c3,d5,Nd2,d4,Bf2,Be6,c4,Bd6,Ne2,b5,Ng3,bxc4,Nxc4,Bxc4,dxc4,O-O,Be2,Qa5+,Qd2,Nb4,O-O,Qb6,Nf5,Nh5,Qg5,g6,g4,Nf4,Qf6,Nxe2+,Kh1,gxf5,gxf5,Bc7', 'Rg1+,Ng3+,Rxg3#', 'https://lichess.org/training/BWnmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWnnp', 'Rapid', 'Cmul', 1655, 'Kali_bekzat', 1720, 'e4,e5,Bc4,Qh4,Nc3,Bb4,Nf3,Qf4,d3,Bxc3+,bxc3,Qf6,O-O,h6,Bb2,d6,h3,Nc6,Rb1,Na5,Bb3,Nxb3,cxb3,g5,Nh2,Qg6,c4,h5,d4,g4,dxe5,gxh3,g3,Qxe4,f3,Qe3+,Kh1,h4,Re1,Qg5,exd6+,Kf8,g4,cxd6,Bxh8,b6,Re4,Bb7,Re3,Qxe3,Qxd6+,Ke8,Rd1', 'Bxf3+,Nxf3,Qxf3+,Kg1,Qg2#', 'https://lichess.org/training/bWnnp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BwOSn', 'Rapid', 'bksvdubai', 1750, 'MuratPolatozkan1', 1859, 'e4,d6,d4,g6,Nc3,Bg7,Nf3,Nf6,Be3,O-O,Bd3,Nbd7,Qd2,Ng4,h3,Nxe3,fxe3,c5,d5,a6,O-O,b5,Be2,b4,Na4,Qa5,b3,Bxa1,Rxa1,Qc7,Qe1,Ne5,Qh4,Nxf3+,Bxf3,f5,Rf1,fxe4,Bxe4,Rxf1+,Kxf1,Bd7,Kg1,Bxa4,bxa4,Rf8,Qg5,Rf6,h4,Qa5,h5,Kg7,h6+,Kf7,Bd3,Qxa4,e4,Qxa2,e5,dxe5,Qxe5,Qb1+,Kh2,Qc1,d6,Qxh6+,Kg1,exd6', 'Bc4+,Kf8,Qxf6+', 'https://lichess.org/training/BwOSn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWpcO', 'Rapid', 'illjuha', 1698, 'jekabsons', 1746, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,d4,d5,e5,Qe7,Qe2,Bg4,f3,Ne4,fxg4,Qh4+,g3,Nxg3,hxg3,Qxh1,Qf2+,Ke7,Bg5+,Ke8,Kd2,Qe4,Be2,Bb4+,c3,Rf8,Qh2,Qxd4+,Ke1,Qxe5,cxb4,Qxb2', 'Bb5+,Kf7,Qxb2', 'https://lichess.org/training/BWpcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWPrI', 'Rapid', 'patriot_dp', 1763, 'exyu_master', 1837, 'e4,c5,Bc4,e6,Nf3,Nc6,a3,d5,exd5,exd5,Qe2+,Be7,Ba2,Nf6,Nc3,O-O,O-O,Bf5,d3,d4,Ne4,Bxe4,dxe4,Re8,Ng5,Ne5,Bf4,h6,Bxe5,hxg5,Bxf6,Bxf6,Qc4,Rf8,Qxc5,b6,Qf5,Rc8,Rac1,d3,cxd3,Rxc1,Rxc1,Qxd3,h3,Bxb2,Rc8,g6,Rxf8+,Kxf8', 'Qxf7#', 'https://lichess.org/training/BWPrI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWPTo', 'Blitz', 'FM pascalka0409', 2717, 'blackcobra2001', 2553, 'Nf3,f5,b3,d6,d4,Nf6,Bb2,g6,g3,Bg7,Bg2,O-O,O-O,Nc6,d5,Nb4,c4,e5,dxe6,Bxe6,Nd4,Bc8,Nc3,c6,Qd2,Qe7,Rfd1,Rd8,Rac1,a5,e3,d5,cxd5,Nbxd5,Nxd5,Nxd5,Rxc6,Nxe3,Rxc8,Nxd1,Rxa8,Nxb2,Bd5+,Kh8,Rxd8+,Qxd8,Ne6,Qf6,Nxg7,Kxg7,Qxa5,Nd3,Qc7+,Kh6,Qc2,Qd4,Qd2+,g5,Bxb7', 'Qa1+,Kg2,Ne1+,Qxe1,Qxe1', 'https://lichess.org/training/BWPTo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWRDK', 'Rapid', 'ivankovac', 1800, 'andruxa555', 1817, 'e4,c5,Bc4,Nc6,c3,e6,Nf3,a6,a4,d5,exd5,exd5,Qe2+,Qe7,Qxe7+,Ngxe7,Be2,g6,O-O,Bh6,Na3,O-O,Re1,d4,Nc4,Bf5,Nd6,Bc2,Nxb7,d3,Nxc5,dxe2,Rxe2,Rfe8,d4,Bd1,Re1,Bxc1,Rxc1,Bxf3,gxf3,a5,Nd7,Nd5,Rxe8+,Rxe8,c4,Nxd4,cxd5', 'Ne2+,Kf1,Nxc1,Nf6+,Kf8', 'https://lichess.org/training/bWRDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWsAr', 'Blitz', 'Voldemator', 2136, 'NM frostbitten', 2277, 'e4,c5,Nc3,d6,g3,Nc6,Bg2,e6,d3,Nf6,h3,Be7,f4,a6,Nf3,d5,e5,Nd7,Ne2,b5,O-O,Nb6,b3,d4,g4,Nd5,Bd2,Bb7,Ng3,Qc7,Qe2,Ncb4,Bxb4,Nxb4,f5,Nd5,fxe6,fxe6,Nd2,Ne3,Bxb7,Qxb7,Rf3,O-O-O,a4,Rhf8,axb5,axb5,Nde4,Kc7,Rxf8,Rxf8,c3,Ra8,Rc1,Qd5,cxd4,Qxd4,Kh2,Ra3,b4,Qxd3,Qxd3,Rxd3,Nxc5,Rd2+,Kh1,Bxc5,Rxc5+,Kb6,Ne4,Rb2,Rc3,Nd5,Rf3,Rxb4,Nd6,Rb2,Rf7,Re2,Rxg7,Rxe5,Rxh7,b4', 'Nc4+,Kc5,Nxe5', 'https://lichess.org/training/BWsAr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BwTgd', 'Blitz', 'Looma', 2039, 'samsidor', 2022, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Nd2,Bb7,b3,Nf6,Bb2,Bc5,Qc3,O-O,Bd3,d5,exd5,Qxd5,O-O-O,Rad8,Be4,Qd4,Qxd4,Bxd4,Bxb7,Bxf2,Bxf6,gxf6,Rhf1,Be3,Rxf6,Kg7,Rf3,Bc5,Ne4', 'Ba3+,Kb1,Rxd1#', 'https://lichess.org/training/BwTgd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWtVT', 'Rapid', 'FcPadovano', 1684, 'MiFixTop_MixZZ', 1836, 'e4,e5,Nf3,Nc6,d4,d5,Nxe5,Nxe5,dxe5,dxe4,Qxd8+,Kxd8,Nc3,f6,exf6,Nxf6,Bg5,Bb4,O-O-O+,Bd7,Nxe4,Re8,Nxf6,gxf6,Bxf6+,Be7,Bxe7+,Rxe7,Bd3,c5,Bf5,Rc8,Bxd7,Rxd7,Rxd7+,Kxd7,Rd1+,Kc6,g4,Rf8,Rf1,b5,f4,Kd5,f5,c4,Rd1+,Ke4,Rd7,Kf4,h3,a5,Rxh7,Kg3,g5,Rxf5,g6,Kf3,g7,Ke3,b3', 'c3,a3,Rf1#', 'https://lichess.org/training/BWtVT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWuFu', 'Rapid', 'PaulRoger', 2132, 'tranh', 2011, 'e4,b6,d4,Bb7,Nc3,e6,a3,h6,f4,c5,Be3,cxd4,Bxd4,Nf6,Bd3,Bc5,Nf3,O-O,b4,Bxd4,Nxd4,Nc6,Nxc6,dxc6,e5,Nd5,Nxd5,Qxd5,Qe2,Qd4,Rd1,Qc3+,Qd2,Qxa3,O-O,c5,Rb1,cxb4,Qxb4,Qxb4,Rxb4,Rfc8,f5,Rc5,fxe6,fxe6,Re1,Rd8,Ra1,Rxe5,Rxa7,Re1+', 'Kf2,Re5,Rxb7', 'https://lichess.org/training/bWuFu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BwuFv', 'Rapid', 'Surikaata', 1755, 'fersa', 1783, 'd4,e6,e4,d6,g3,h6,Bg2,g6,b3,Bg7,Bb2,b6,Ne2,Bb7,Nd2,Ne7,Nc4,O-O,O-O,a5,e5,Bxg2,Kxg2,d5,Ne3,Nbc6,Qd2,Nf5,Nxf5,exf5,Qc3,Qd7,Ba3,Rfe8,Nf4,Kh7,h4,Na7,h5,g5,Nd3,Nb5,Qb2,Nxa3,Qxa3,Bf8,Qc1,c5,c3,Rac8,Qd2,cxd4,cxd4,Qb5,f4,g4,Nf2,Bb4,Qd1,Re6,Rc1,Rec6,Rxc6,Qxc6,Qb1,Qe6,Nxg4,Kh8,Ne3,Rc3,Qxf5', 'Rxe3,Qxe6,fxe6', 'https://lichess.org/training/BwuFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BWuGn', 'Rapid', 'mikc67', 1726, 'pe6eHok', 1683, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,Bxc6+,bxc6,d3,Bg4,h3,Bh5,Bg5,Be7,Bxf6,Bxf6,g4,Bg6,h4,h6,h5,Bh7,Qe2,O-O,O-O-O,Bg5+,Nxg5,Qxg5+,Kb1,f6,f3,Rfd8,Rde1,d5,Qe3', 'Qxe3,Rxe3,d4,Ree1,dxc3', 'https://lichess.org/training/BWuGn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWxq5', 'Rapid', 'Chessman11', 1771, 'aidynnur', 1634, 'c4,Nf6,g3,Nc6,Bg2,d6,Nc3,a6,e4,g6,Nge2,Bg7,O-O,Bg4,h3,Be6,b3,Qd7,d4,Bxh3,f4,Bxg2,Kxg2,Ng4,e5,Qf5,d5,Nb4,Nd4,Qh5', 'Rh1,Qxh1+,Qxh1', 'https://lichess.org/training/bWxq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWy0x', 'Rapid', 'professorms', 1828, 'dryfish', 2121, 'e4,e5,Nf3,d6,Bc4,Nd7,d3,c6,Be3,Be7,Nc3,b5,Bb3,a5,a4,b4,Ne2,Ngf6,O-O,Ng4,Qd2,Nxe3,Qxe3,Nc5,d4,Nxb3,cxb3,exd4,Nfxd4,Bd7,Qg3,O-O,Nf5,Bxf5,exf5,Bf6,Rab1,d5,Qd3,Re8,Nd4,c5,Nb5,Qd7,Rfd1,Rac8,Qxd5', 'Re1+,Rxe1,Qxd5', 'https://lichess.org/training/bWy0x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWYo6', 'Rapid', 'Kleopatra2019', 1889, 'Bacuz', 1974, 'e4,g6,Nf3,Bg7,d4,d6,Bf4,c6,Bd3,h5,e5,dxe5,Bxe5,Bxe5,dxe5,Bg4,h3,Bxf3,Qxf3,Qd5,Qxd5,cxd5,Nc3,e6,Nb5,Na6,Nd6+,Ke7,Bxa6,bxa6,O-O,f6,f4,Nh6,Rf3,g5,g3,gxf4,gxf4,Rhg8+,Kf2,fxe5,fxe5,Raf8,Re1,Rxf3+,Kxf3,Rf8+,Ke3,Nf5+,Nxf5+,Rxf5,Kd4,Rf2,Kd3,Rf3+,Re3,Rf5,Kd4,Kd7,Kc5,Rf8,Ra3,Rc8+,Kd4,Rxc2,Rxa6,Rxb2,Rxa7+,Ke8,a4,Rb4+,Kc5,Rc4+,Kd6,d4,Kxe6,Kd8,Kd6,Kc8,e6,d3,e7,Re4,Ra8+,Kb7,e8=Q', 'Rxe8,Rxe8,d2,Kc5,d1=Q', 'https://lichess.org/training/bWYo6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bWZe5', 'Rapid', 'Lain', 1807, 'kkkkianoush', 1823, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,Ne5,Qh4+,Kf1,Nh6,d4,d6,Nd3,f3,Bf4,Nc6,c3,fxg2+,Kxg2,Qh3+,Kg1,Rg8,Nf2,Qh4,Nd2,Be7,Bxh6,Qxh6,Nf1,Bh4,Qe2,Ne7,Bb3,g3,hxg3,Ng6,Bxf7+,Kxf7,Qf3+,Ke8,Ng4,Qg5,Rxh4,Nxh4,Nf6+,Kd8,Qf2,Rg7,Kh2,Ng6,e5,Rf7,Rd1,Qh6+,Kg2,Qh3+,Kg1,Rg7,Rd3,Nh4,exd6,cxd6,Re3,Kc7', 'Ne8+,Kb6,Nxg7', 'https://lichess.org/training/bWZe5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bwZma', 'Rapid', 'ss87', 1912, 'Ckdomalanta', 1856, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Bd3,Bg4,h3,Bxf3,Qxf3,Nc6,Be3,Nd7,Ne2,Nb6,b3,Nb4,Bb1,c5,a3,cxd4,Bxd4,Nc6,Bxg7,Kxg7,Qc3+,Kg8,O-O,Ne5,f4,Ned7,Ng3,Qc7,f5,Qc5+,Kh1,Ne5,fxg6,fxg6,Rxf8+,Rxf8,b4,Qxc4', 'Ba2,Qxa2,Rxa2', 'https://lichess.org/training/bwZma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BwZTI', 'Rapid', 'jcarlospeon', 1753, 'endrus', 1717, 'c4,e6,g3,g6,Bg2,Bg7,Nf3,Nf6,Nc3,c6,b3,O-O,Bb2,d5,cxd5,exd5,e3,Re8,O-O,Na6,a3,Bd7,Rb1,Qc8,Re1,Bg4,Qc2,Nc5,b4,Nce4,h4,b5,d3,Nd6,Ne2,a5,Ne5,Bd7,Nxd7,Qxd7,Rec1,Rec8,Nd4,axb4,axb4,Ra6,Nb3,Raa8,Nc5,Qg4,Kh2,Nf5,Bh3,Qf3,Bg2,Qh5,Qd1,Ng4+,Kg1,Ra2,Qe2,Re8,Rc2,Nd4', 'Bxd4,Rxc2,Qxc2,Bxd4,exd4', 'https://lichess.org/training/BwZTI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BX2SX', 'Blitz', 'Mayes', 2305, 'Tatanul', 2428, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,g6,Nc3,Bxa6,g3,Bg7,Bg2,d6,Nf3,Nfd7,O-O,Nb6,Qc2,Nc4,Nd2,Nxd2,Bxd2,Nd7,b3,O-O,a4,Qc7,Rab1,Rfb8,Rfe1,Ra7,Nd1,Rab7,Ne3,Ne5,f4,Nd7,Nc4,Bxc4,Qxc4,Bd4+,e3,Bg7,a5,Ra7,Bh3,Nf6,e4,Qb7,b4,cxb4,Rxb4,Qa8,Rc1,Rxb4,Bxb4,h5,Bf1,Rb7,a6,Rb8,Bc3,Ng4,Bxg7,Kxg7,Qd4+,Kg8,a7,Rb7,Ba6,Qxa7', 'Rc8+,Kh7,Rh8#', 'https://lichess.org/training/BX2SX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bx7hF', 'Blitz', 'robles2020', 2059, 'jairon3', 2007, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Nbd7,O-O-O,Qc7,g4,b5,a3,Rb8,Bxf6,Nxf6,Na2,Bb7,Bd3,d5,e5,Nd7,Rhe1,Rc8,Qe2,Nc5,f5,Nxd3+,Rxd3,Qb6,Qf3,Bc5,Qf4,Bxd4,Rxd4,Rc4,Rxc4,bxc4,Rf1,Bc8,Nc3,Bd7,Ne2,h6,Nd4,a5,fxe6,Bxe6,Nxe6,Qxe6,Qf5,O-O,g5,Qxf5,Rxf5,hxg5,Rxg5,Re8,Kd2,g6,Ke3,Kg7,Kd4,Kh6,Rg3,Rd8,Rh3+,Kg7,Rf3,g5,Rf6,g4,Rd6,Rb8,Kc3,Re8,Rxd5,Kg6,Rxa5,Kf5,Kxc4,Rc8+,Kd3,Kf4,Ra4+,Kf3,Ra7,Kg2,Rxf7,Kxh2,Ke4,Rg8,e6,g3,Rf1,g2,Rd1,Rf8,e7,Re8,Kf3,Rxe7,Kf4,Rf7+,Ke3,Rf1,Rd7,Kh1,Ke2,Rc1,Rh7+,Kg1,Kd2,Rf1,Rg7,Rf2+,Kc3,Kf1,Kb3,Rf3+,c3,Kf2,Rxg2+,Kxg2,a4,Rf8,Kb4,Kf3,c4,Ke4,Kc5,Ke5,b4,Rc8+,Kb5,Kd6,c5+,Kc7,Kc4,Rb8,b5,Rb7,a5,Rb8,Kb4,Kb7,a6+,Ka7,Ka5,Rc8,b6+,Kb8,Kb5,Rg8,a7+,Kb7,c6+,Ka8', 'Ka6,Rg7,b7+,Rxb7,cxb7#', 'https://lichess.org/training/Bx7hF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bx7oj', 'Rapid', 'BBC_SF', 2138, 'navaneethkrishna', 1814, 'c4,e6,Nc3,d5,d4,Bb4,Nf3,c5,e3,Nc6,Bd2,cxd4,Nxd4,Nxd4,exd4,Nf6', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/bx7oj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bx7yQ', 'Blitz', 'Komis', 1779, 'freddy92000', 1737, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,O-O,Bd3,Bb7,Bxe5,Re8,Bxf6,Qxf6,Qf3,Qxb2,O-O,Qe5,Qg4,c5,Qxd7,Bxe4,Rfe1,Rad8,Qxa7,Qd4,Bxe4,Rxe4,Rab1,Rf4,Rf1,g6,Rb7', 'Qxf2+,Rxf2,Rd1+,Rf1,Rdxf1#', 'https://lichess.org/training/Bx7yQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BX9BE', 'Classical', 'khalilbenali001', 1794, 'andy81944', 1888, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,fxe4,dxe4,Nf6,Nc3,d6,Bg5,Be7,Bxf6,Bxf6,Qd5,Bd7,Bc4,Qe7,a3,Nd8,Rd1,a6,Qd2,Ne6,Nd5,Qd8,Nxf6+,Qxf6,h4,O-O-O,Qe2,Nf4,Qf1,Bc6,g3,Bxe4,gxf4,Bxf3', 'Qh3+,Kb8,Qxf3', 'https://lichess.org/training/BX9BE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bXaBV', 'Rapid', 'Sweep105', 1715, 'BRG721', 1711, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Nf6,Nc3,Nc6,O-O,Be7,Re1,O-O,Bg5,h6,Bh4,Nh7,Bxe7,Nxe7,e5,d5,Ne4,d4,Nxc5,Qb5,Nb3,Rfd8,a4,Qd5,Qxd4,Qxd4,Nbxd4,Ng5,Nxg5,hxg5,Rad1,g6,Nf3,g4,Nd2,Nc6,Nc4,Rxd1,Rxd1,Re8,Re1,Nd4,Na3,a6,c3,Nc6,Nc4,Kg7,Nd6,Re7,Nc4,g5,f3,gxf3,gxf3,b5,axb5,axb5,Nd6,Nxe5,Nf5+,Kf6,Nxe7,Nxf3+,Kf2,Nxe1,Kxe1,Kxe7,Ke2,Ke6,Kf3,Kd5,Kg4,f6', 'Kf5,Kc4,Kxf6,g4,Kf5,Kb3,Kxg4', 'https://lichess.org/training/bXaBV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bXao9', 'Rapid', 'arasi', 1927, 'Iorsh', 1893, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Bxd7+,Bxd7,e5,dxe5,Nxe5,Nf6,Re1,e6,d4,cxd4,Qxd4,Be7,Bg5,Nd5,Bxe7,Qxe7,Nxd7,Qxd7,Qxg7,O-O-O,c4,Nf4,Qe5,Nd3,Qe3,Nxe1,Qxe1,Qd1,Nc3,Qxe1+,Rxe1,Rd2,Ne4,Rxb2,Nd6+,Kd7,Nxb7,Rxa2,g3,Rb8,Nc5+,Kc6,Nd3,Rd8', 'Nb4+,Kc5,Nxa2', 'https://lichess.org/training/bXao9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BxBzG', 'Rapid', 'miffymishra', 1835, 'Scharrelaar', 1814, 'e4,g6,c3,Bg7,d4,d6,f4,Nf6,Bd3,Bg4,Qb3,b6,h3,Be6,Qc2,O-O,Nf3,Bc8,Na3,Ba6,Bd2,Bxd3,Qxd3,a6,g4,c5,d5,b5,f5,c4,Qc2,Nbd7,g5,Nh5,O-O-O,Ne5,Nxe5,Bxe5,Nb1,Nf4,Be3,Nd3+,Kd2,f6,fxg6,hxg6,gxf6,exf6,Rdg1,Kf7,b3,Rh8,Na3,Rb8,bxc4,bxc4,Nxc4,Nf4,Nxe5+,dxe5,Bxf4,exf4,Kc1,Qd6,e5,fxe5,Rg2,Rb5,Rhg1,Qa3+,Kd2,Rxd5+,Ke2,Rg8', 'Rxg6,e4,Rxg8', 'https://lichess.org/training/BxBzG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BxBZk', 'Rapid', 'Chessbeginner32019', 2004, 'Warlord100', 1985, 'e4,a5,f4,a4,Nf3,g6,Bc4,Bg7,d4,c6,O-O,b5,Bxf7+,Kxf7,c3,d6,f5,gxf5,exf5,Nf6,Ng5+,Kg8,Qe2,Nbd7', 'Qe6+,Kf8,Qf7#', 'https://lichess.org/training/BxBZk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bxCvd', 'Rapid', 'katapovisk', 1916, 'Dac1957', 1912, 'c4,g6,d4,Bg7,Nc3,d6,e4,a6,Bd3,Nc6,Nge2,e5,d5,Nce7,f3,f5,Bg5,Nf6,Qd2,O-O,b4,Bd7,a4,Qc8,O-O,f4,c5,h6,Bh4,g5,Bf2,g4,b5,axb5,axb5,Rxa1,Rxa1,gxf3,gxf3,Bh3,c6,b6,Kh1,Qe8,Ng1,Qh5,Ra7,Ne8,Bxb6,Rf6,Nxh3', 'Qxf3+,Qg2,Qxd3', 'https://lichess.org/training/bxCvd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BxCyA', 'Blitz', 'HimmelLove', 1925, 'Johnny56', 1961, 'e4,Nf6,e5,Nd5,Nf3,d6,exd6,cxd6,Nc3,Nxc3,dxc3,Nc6,Bd3,g6,Bg5,Bg7,Qd2,O-O,Bh6,Bg4,Bxg7,Kxg7,O-O-O,Rc8,Rde1,Bxf3,gxf3,Qa5,Kb1,Ne5,Qe3,Rfe8,f4,Nxd3,Qxd3,Qc5,h4,h5,Reg1,e6,Rg5,Qxf2,Rhg1,Qxh4', 'Rxg6+,fxg6,Qxg6+,Kh8,Qh6#', 'https://lichess.org/training/BxCyA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bxe1s', 'Rapid', 'daricredito', 1805, 'Thaer_Alassi2', 1675, 'e4,e5,Nf3,f5,Nc3,Nf6,d3,Bc5,Nxe5,Bxf2+,Kxf2,Ng4+,Kg1,c6,h3,Qb6+,d4,c5,Nxg4,cxd4,Nf2,dxc3,bxc3,fxe4,Qe2,O-O,Be3,Qf6,Ng4,Qxc3,Rb1,b6,Rb3,Qa1,Rh2,Qxa2,Rh1,Ba6,Qd1', 'Rxf1+,Qxf1,Bxf1', 'https://lichess.org/training/Bxe1s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BxFaR', 'Rapid', 'Hinder31', 1905, 'mha4442', 1852, 'e4,e5,Nf3,Qf6,b3,Bc5,Bb2,d6,d4,Bxd4,Nxd4,exd4,Bxd4,Qg6,f3,Nc6,Bb2,Nge7,Nd2,O-O,Rg1,Qh6,h3,Qe3+,Qe2,Qxg1,O-O-O,Ng6,Qd3,Nf4,Qc3,f6', 'Bc4+,d5,Rxg1', 'https://lichess.org/training/BxFaR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bXGBm', 'Classical', 'olegun17', 1620, 'nivrid', 1621, 'g3,e5,Bg2,Nf6,Nf3,Nc6,c4,Bc5,Ng5,h6,Nxf7,Kxf7,O-O,d5,cxd5,Nxd5,b3,Rf8,Ba3,Bxa3,Nxa3,Kg8,e4,Nf4,gxf4,Rxf4,d3,Qg5,Kh1,Nd4,Nc4,Bg4,Qc1,Bf3,Ne3,Ne2,Qc4+,Kh7,Bxf3,Rxf3,d4,Nf4,Rg1,Qh4,Nf5', 'Qxh2+,Kxh2,Rh3#', 'https://lichess.org/training/bXGBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bxGwJ', 'Rapid', 'Pahom', 1900, 'Ukraina84', 1935, 'e4,e5,Bc4,Nc6,f4,Bc5,Nf3,d6,Nc3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd3,exf4,b4,Qh4+,Kf1,Nxc2,bxc5', 'Qe1#', 'https://lichess.org/training/bxGwJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BxgXW', 'Blitz', 'Ali-Veli', 1905, 'Aldragoon', 1758, 'e4,e6,d4,d5,exd5,exd5,Qe2+,Be7,Nc3,Nf6,Nf3,c6,Bf4,O-O,O-O-O,Bg4,h3,Bxf3,Qxf3,b5,a3,Qa5,Kb1,b4,axb4,Qxb4,Bd3,a5,Rde1,a4,Na2,Qb7,g4,a3,b3,Re8,g5,Ne4,Rxe4,dxe4,Qxe4,g6,h4,Na6,Bc4,Bxg5,Qf3,Bxf4,Qxf4,Nb4,Nxb4,Qxb4', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/BxgXW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BxjvN', 'Rapid', 'Ruspa2', 1768, 'seljakseljakovic', 1721, 'e4,e5,f4,exf4,Bc4,Nf6,Nc3,Bb4,Nd5,Nxd5,Bxd5,O-O,Nf3,Re8,c3,Bf8,d4,c6,Bb3,d5,e5,c5,Bxf4,Nc6,O-O,Bg4,Bc2,Kh8,Be3,cxd4,cxd4,f6,Qd3,g6,exf6,Qxf6,Ne5,Qe6,Nf7+,Kg8,Nh6+,Bxh6,Bxh6,Be2,Qd2,Bxf1,Rxf1,Rac8,Qg5,Nxd4,Bd3,Qe5', 'Rf8+,Rxf8,Qxe5', 'https://lichess.org/training/BxjvN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bxJW3', 'Blitz', 'Ercandund', 1580, 'DmitriyT', 1576, 'e4,e6,Nf3,g5,d4,g4,Ne5,h5,f3,d6,fxg4,dxe5,gxh5,Qxd4,Bd3,Bc5,Qf3,Nf6,Nc3,Nxh5,Bd2,Nf4,O-O-O,Nxd3+,cxd3,Na6,Rhf1,Rf8,Bh6,Ba3,Bxf8', 'Qxc3+,Kb1,Qxb2#', 'https://lichess.org/training/bxJW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bXkt6', 'Rapid', 'Sergey_Tsarelung', 1883, 'momo_klaus', 1951, 'e4,e5,Bc4,Nf6,d3,Bc5,Be3,Bxe3,fxe3,O-O,Qf3,c6,h3,d5,exd5,cxd5,Bb3,Nc6,c3,e4,Qe2,Bf5,d4,Na5,Nd2,Nxb3,Nxb3,b6,O-O-O,a5,Rf1,Be6,g4,a4,Nd2,a3,b3,Qc7,Nb1,b5,Qxb5,Rfb8,Qc5,Qg3,Kd2,Qg2+,Ne2,Nxg4,hxg4', 'Bxg4,Re1,Bxe2', 'https://lichess.org/training/bXkt6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bXlYh', 'Rapid', 'CommEngineer', 1713, 'bn2007', 1727, 'd4,d5,Nf3,Nf6,Bf4,Nc6,e3,a6,Bd3,Bg4,Nbd2,Nh5,Bg3,Nxg3,hxg3,e5,dxe5,Nxe5,Be2,Nxf3+,Nxf3,Bxf3,Bxf3,c6,c3,Bd6,Qc2,h6,O-O-O,Qe7,e4,O-O-O,Rhe1,dxe4,Bxe4,Qf6,Bf3,Rhe8,Qb3,Qg5+,Kb1,Qc5,Qxf7,Rxe1,Rxe1,Qxf2', 'Bg4+,Kb8,Qxf2', 'https://lichess.org/training/bXlYh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BXm0v', 'Rapid', 'Elimaster', 1743, 'NohcohB', 1756, 'c4,c6,Nc3,d6,a3,Nd7,e3,Nb6,Na4,Nf6,Nxb6,Qxb6,Qc2,e5,Ne2,Be7,Ng3,Be6,Be2,h6,d3,Nd7,Bd2,f5,Bf3,Nc5,Bb4,a5,Bxc5,Qxc5,Qd2,O-O,Rc1,Qb6,O-O,Rad8,d4,e4,Be2,d5,cxd5,Bxd5,Bc4,Bg5,Ne2,Qa7,Qc2,Qb8,Bxd5+,Rxd5,Qc4,Kh8,b4,axb4,axb4,Be7,Rb1,Bd6,g3,Qe8,Nf4,Bxf4,exf4,h5,Ra1,h4,Ra7,Rb5,Rfa1,h3,R1a5,Rf6', 'Ra8,Rf8,Rxe8', 'https://lichess.org/training/BXm0v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BxmDE', 'Blitz', 'naderchess174', 1969, 'agusari', 2014, 'e4,e5,Nc3,c6,Bc4,d5,exd5,cxd5,Bxd5,Nf6,Bb3,Bc5,Qe2,O-O,Nf3,e4,Ng5,Bg4,f3,exf3,gxf3,Bh5,d3,Re8,Nce4,Nxe4,dxe4,h6,Nxf7,Bxf7,Bxf7+,Kxf7,Qc4+,Re6,Qxc5,Qh4+,Qf2,Qf6,c3,Na6,Be3,Rd8,Bd4,Qg5,Rg1,Qb5,Rxg7+,Kf8,O-O-O,Qc4,Rxb7,Red6,Bg7+,Kg8,Rxd6,Rxd6,Qxa7', 'Qf1+,Kc2,Qd1#', 'https://lichess.org/training/BxmDE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BXmIx', 'Blitz', 'RGHK16', 1952, 'IM xaoc88', 2375, 'd4,b6,c4,Bb7,Nc3,g6,e4,Bg7,Nf3,e6,Be2,Ne7,O-O,O-O,Be3,h6,Qd2,Kh7,Rad1,d5,exd5,exd5,Ne5,f6,Ng4,h5,Nh6,g5,Bxg5,fxg5,Qxg5,Bxh6', 'Bd3+,Nf5,Bxf5+', 'https://lichess.org/training/BXmIx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BxnDz', 'Rapid', 'narud', 1744, 'Palkopan', 1694, 'd4,d5,c4,Nf6,e3,e6,Be2,c5,Nf3,cxd4,Nxd4,Bb4+,Bd2,Bxd2+,Nxd2,O-O,O-O,Nc6,N2b3,Nxd4,Nxd4,a6,cxd5,Nxd5,a3,g6,Bf3,Bd7,Qb3,Bc6,Rac1,Rc8,g3,Qd7,Bg2,Nf6,h3,Bxg2,Kxg2,Rxc1,Rxc1,Rc8,Rd1,Qd5+,Qxd5,Nxd5,Nf3,Rd8,Rc1,Rd6,Ne5,b5,e4,Nb6,Nc6,Rd2,b3,Ra2,Rd1,Rxa3,Rd8+,Kg7,Ne5,Rxb3,Rb8,Nc4,Nf3,Kf6,g4,Ne5', 'g5+,Ke7,Nxe5', 'https://lichess.org/training/BxnDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BxpXt', 'Classical', 'ryankeluang', 1662, 'eRZGR06', 1846, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Nf3,Nbd7,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,Bd6,e4,e5,dxe5,Nxe5,Nxe5,Bxe5,Bg5,O-O,Qc2,h6,Be3,Ng4,h3,Nxe3,fxe3,Qb6,Rf3,Rad8,a4,b4,Ne2,c5,Bc4,Qg6,Bd3,Qd6,Rd1,Ba6,Nc1,Bxd3,Rxd3,Qc6,Qc4,Bxb2,Rxd8,Rxd8,Qxf7+,Kh8,Ne2,Qxa4,Nf4,b3,Ng6+,Kh7,Qf5,Qe8', 'Nf8+,Kg8,Qh7#', 'https://lichess.org/training/BxpXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bxQfk', 'Rapid', 'pianoimprov', 1771, 'SakuraChan', 1763, 'e4,e5,Nf3,Nc6,Bb5,Qf6,O-O,Nd4,Nxd4,exd4,d3,Bc5,f4,Ne7,Qg4,a6,Bc4,d5,e5,Qh6,f5,Qb6,Qxg7,Rg8,Qxh7,dxc4,f6,Bf5', 'Rxf5,Nxf5,Qxg8+', 'https://lichess.org/training/bxQfk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bXQwU', 'Rapid', 'vugachukwu', 1917, 'martinezfd', 1899, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nf3,Be7,Be2,O-O,O-O,Bf6,Be3,Nc6,Nc3,Bf5,b3,Nb4,Rc1,Re8,a3,Nc6,d5,Ne5,h3,Nbd7,Nb5,a6,Nbd4,Ng6,Nxf5,Bb2,a4,Bxc1,Qxc1,Nf6,Bg5,Qd7,Bxf6,Qxf5,Bc3,Rxe2,Nd4,Qe4,Nxe2,Qxe2,Re1,Qh5,Re3,f6,Qe1,Nf4,Rg3', 'Ne2+,Kh2,Nxg3', 'https://lichess.org/training/bXQwU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BXrXm', 'Rapid', 'NicoPhotos', 1793, 'brucifer', 1782, 'e4,c5,Nf3,a6,d4,e6,Be3,cxd4,Nxd4,Nc6,Nc3,Bb4,Qd2,Nf6,f3,O-O,Be2,d5,Nxc6,bxc6,e5,Nd7,a3,Ba5,b4,Bb6,Bd4,Bb7,Na4', 'Qh4+,g3,Qxd4,Qxd4,Bxd4', 'https://lichess.org/training/BXrXm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BxSGc', 'Rapid', 'Evgeniy05', 1668, 'Winterborn', 1698, 'd4,d5,e3,e6,Nf3,Nc6,c4,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,O-O,cxd5,exd5,Ne5,Bd7,f4,a6,Bd3,a5,g4,Ne4,Nxd7', 'Qh4+,Kf1,Qf2#', 'https://lichess.org/training/BxSGc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bxv3d', 'Classical', 'Gevorg_Armenia', 1765, 'Kenigsberg72', 1985, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Bg5,Be7,Nf3,Nc6,cxd5,Nxd5,Bxe7,Ncxe7,Bd3,O-O,O-O,b6,Qc2,Ng6,Nxd5,Qxd5', 'Be4,Bb7,Bxd5', 'https://lichess.org/training/bxv3d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BXvek', 'Blitz', 'Crash456', 1575, 'ElyseeReclus', 1517, 'e4,e5,Nf3,Nc6,h3,Bb4,a3,Bc5,d3,Nf6,c3,O-O,Be2,h6,O-O,d6,Kh2,Na5,Rh1,Be6,Kg1,Nb3,Ra2,Nxc1,Ra1,Nb3,Ra2,a6,c4,Nd4,Nh2,b5,b4,Bb6,Rb2,c5,Bg4,bxc4,Bf5,cxd3,Qxd3,Nxf5,exf5,Bc8,b5,axb5,Qxb5,Rb8,Qe2,Bxf5,Nc3,Ba5,Nd1,Rxb2,Qxb2,Qb6,Qe2,c4,g4,Bd3,Qf3,Qb1,Nf1,Ne4,Rh2,Bxf1,Kxf1,Qd3+,Qe2,Qd4,Ne3,Rb8,Nf5,Qa1+,Kg2,Nc3,Qe3,Bb6,Qd2,Ne4,Qd5,Nxf2,Ne7+,Kh7,Qxd6,Ra8,Qxe5,Rxa3,Qf5+,Kh8', 'Qc8+,Bd8,Qxd8+,Kh7,Qg8#', 'https://lichess.org/training/BXvek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bxVrB', 'Blitz', 'Abu3baid', 1629, 'perviz74', 1647, 'e4,e5,Nf3,d6,Bc4,Bg4,O-O,Bxf3,Qxf3,Nf6,Nc3,Nc6,Ne2,Be7,Ng3,O-O,Nf5,Nd4,Nxd4,exd4,Qd3,c5,Qb3,a6,Qxb7,Nxe4,d3,Nf6,Bg5,a5,Rae1,Re8,Qb3,Rf8,Re2,Rb8,Qa4,d5,Bb3,c4,dxc4,dxc4,Qxc4,Bc5,Rfe1,d3,cxd3,Bb4,Bxf6,Qxf6,a4,Bxe1,Rxe1,Qxb2,Ba2,Rb4', 'Qxf7+,Rxf7,Re8#', 'https://lichess.org/training/bxVrB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BxW7T', 'Blitz', 'el_Kutahyevi', 1548, 'Aslan-2003', 1550, 'e3,c5,c3,Nc6,Qb3,Nf6,Bc4,e6,Nf3,Na5,Qa4,Nxc4,Qxc4,d5,Qe2,Bd6,h4,O-O,Ng5,h6,Qd3,Nh7,Nxh7,g6,h5,Kxh7,hxg6+,fxg6,e4,Qf6,f3,Bg3+,Kf1,c4,Qe3,dxe4', 'Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/BxW7T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BXWlS', 'Classical', 'rithwik1345', 1827, 'pranithapriya', 1833, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,O-O,c3,Re8,e4,d6,Bd3,Bd7,O-O,Nc6,Re1,h6,Bh4,g5,Bg3,Nh5,Qb3,Na5,Qc2,e5,d5,b6,b4,Nb7,Ba6,Rb8,a4,Qf6,Be2,Nf4,Bxf4,exf4,Bd1,Qxc3,Qxc3,Bxc3,Rc1,Bxb4,Rxc7,Bg4,h3,Bxf3,Bxf3,Nc5,Rd1,Nxa4,Bh5,Bxd2', 'Bxf7+,Kf8,Bxe8,Rxe8,Rxd2', 'https://lichess.org/training/BXWlS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bXxCN', 'Rapid', 'Bekzat233', 1807, 'Danali_748', 1802, 'b3,d5,Bb2,Nc6,e3,e5,Bb5,Bd7,Bxc6,Bxc6,Bxe5,Qg5,Qf3,Qxe5,c3,d4,Qg3,Qxg3,hxg3,d3,Nf3,Bxf3,gxf3,O-O-O,Rh4,Be7,Ra4,a6,c4,Bf6,Nc3,Bxc3,dxc3,d2+,Kd1,Nf6,Rb1,Rd3,Kc2,Rhd8,Rd1,h5,b4,g5,b5,axb5', 'Ra8+,Kd7,Rxd8+,Kxd8,Kxd3', 'https://lichess.org/training/bXxCN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bxxrt', 'Rapid', 'cavalga2003', 1823, 'Derkach_Sergey', 1826, 'e4,e6,d4,d5,Nc3,Bb4,exd5,exd5,Nf3,Nf6,Bd2,c6,Bd3,O-O,O-O,Ba5,h3,Bc7,Nh2,Qd6,f4,Nbd7,Ne2,b5,a3,a5,b4,axb4,Bxb4,Qe6,Bxf8,Nxf8,Ng3', 'Qe3+,Rf2,Qxg3', 'https://lichess.org/training/bxxrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BXy9D', 'Rapid', 'FuzeBaba', 2170, 'Feijovsk', 2049, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,e5,h6,exf6,hxg5,fxg7,Rg8,a3,Bxc3+,bxc3,c5,h4,gxh4,Qg4,Qf6,Rxh4,Qxg7,Qxg7,Rxg7,Rh8+,Kd7,dxc5,Nc6,Rd1,b6,c4,d4,cxb6,axb6,c3,e5,cxd4,exd4,g3,Rxa3', 'Bh3+,Kc7,Rxc8+', 'https://lichess.org/training/BXy9D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bxyxh', 'Rapid', 'borgerasm', 1877, 'Molder', 1794, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,O-O,O-O,a6,a4,c5,Nde2,Nc6,f4,Bg4,h3,Bxe2,Qxe2,Nd4,Qf2,b5,axb5,axb5,Rxa8,Qxa8,Bxb5,Nxb5,Nxb5,Nxe4,Qf3,d5,Re1,Bh4,Rd1,c4,Nc7', 'Qa7+,Be3,Qxc7', 'https://lichess.org/training/Bxyxh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bXZ4V', 'Rapid', 'Martin33klingac', 1745, 'spider2013', 1671, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,h6,Nf3,e4,Ne5,Qd4,b4,Qxe5,bxa5,Qxa1,Bxc6+,Bd7,Bxa8,Qxb1,O-O,Qb8,Bxe4,Nxe4,Re1,f5,d3,Bb4,Re2,O-O,dxe4,Bb5,Re3,fxe4,Rxe4,Bd6,Qd5+,Kh8,h3,Bh2+,Kh1,Rxf2,Re1,Rxc2,Qd4,Bc6,Bd2,Bxg2+,Kxg2,Qg3+,Kh1,Bg1', 'Re8+,Kh7,Qe4+', 'https://lichess.org/training/bXZ4V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bXzOC', 'Rapid', 'Farizal_01', 1979, 'Munya1', 1922, 'd4,c5,d5,d6,e4,Nf6,Nc3,e6,Bb5+,Bd7,Bc4,Be7,Nf3,exd5,Nxd5,Nxd5,Bxd5,Bc6,O-O,O-O,Bf4,Bxd5,Qxd5,Qb6,b3,Nd7,c4,Nf6,Qf5,Rfe8,Rfe1,g6,Qh3,Nh5,Ng5,f6,Ne6,Nxf4,Nxf4,Bf8,Nd5,Qd8,Qf3,Bg7,Rab1,Rb8,a4,b6,b4,Rb7,b5,Rf8,Qg3,f5,exf5,Rxf5,Re4,Be5,Qg4,Bd4,Rxd4,cxd4,Qxd4,Rff7,Re1,Qg5,Re8+,Rf8,Nf6+,Kf7,Rxf8+,Kxf8,Qxd6+,Kg7,Ne8+,Kh6,Qf8+,Kh5,Qf3+,Kh6,Qh3+,Qh5,Qe3+,Qg5,f4,Qe7', 'Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/bXzOC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bxZwI', 'Rapid', 'killerstapler420', 1873, 'Ferrix1409', 1859, 'e4,c6,Nc3,d5,Nf3,Bg4,h3,Bxf3,Qxf3,e6,exd5,cxd5,d4,Nf6,Bf4,Bd6,O-O-O,Nc6,Bb5,Qc7,Bxd6,Qxd6,Kb1,O-O-O,a3,Na5,Rd3,a6,Ba4,Nc4,Bb3,Na5,Na4,Kb8,Nc5,Nd7,Rc3,Qe7,Re1,Nxc5,Rxc5,Nc6,Bxd5,Nxd4,Qc3,Nb5,Qb4,Rxd5,Rxd5', 'Qxb4,axb4,exd5', 'https://lichess.org/training/bxZwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('by2Kn', 'Rapid', 'hasan123', 1921, 'riredofthestorm', 1783, 'e4,Nf6,Nc3,d6,d4,g6,Bd3,Bg7,Nge2,Nbd7,O-O,c5,Be3,b6,Ng3,Bb7,d5,O-O,Qd2,Ne5,Be2,Nfg4,f4,Nxe3,Qxe3,Nd7,f5', 'Bd4,Qxd4,cxd4', 'https://lichess.org/training/by2Kn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BY4Sa', 'Blitz', 'TolDuvan', 2069, 'CM carangelmx', 2204, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,Nc6,Nxc6,bxc6,f4,Ba6,Bxa6,Qb6+,Kh1,Qxa6,e5,Ng4,exd6,O-O,dxe7,Rfe8,Bd2,h5,h3,Nf6,f5,Rxe7,fxg6,fxg6,Qf3,Rf8,Qg3,Kh7,Bg5', 'Ne4,Rxf8,Nxg3+', 'https://lichess.org/training/BY4Sa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('By5CQ', 'Classical', 'LARODASH2013', 1832, 'Torschlusspanik', 1711, 'e4,c5,Bc4,e6,Nc3,Nf6,e5,d5,exf6,dxc4,fxg7,Bxg7,Nge2,Nc6,d3,cxd3,Qxd3,Qxd3,cxd3,Nb4,Kd2,Bh6+,f4,Rg8,g3,e5,Nb5,Na6,Kc2,Bf5', 'Nd6+,Kd7,Nxf5', 'https://lichess.org/training/By5CQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('By5xU', 'Rapid', 'czoandr36', 1801, 'lennielap', 1789, 'e4,e5,Nf3,Bc5,Nc3,Nf6,Bc4,d6,h3,O-O,O-O,Be6,Bxe6,fxe6,d3,Nbd7,Ne2,h6,d4,exd4,Nexd4,Qe7,Re1,e5,Nf5,Qf7,c3,Rad8,b4,Bb6,a4,a6,a5,Ba7,N3h4,Qc4,Ng6,Rfe8,Qf3,Qe6,Qg3,Kh7', 'Nf8+,Rxf8,Qxg7#', 'https://lichess.org/training/By5xU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('by6hd', 'Blitz', 'Lonely_Ghost', 1759, 'eazyzizi', 1786, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,Bb4,Qd3,Nf6,Bd2,Bxc3,Bxc3,Bxe4,Qe3,Bxc2,Bd3,Bxd3,Qxd3,Nc6,O-O,d5,Qb5,Qd7,Rac1,O-O,Bb4,Rfd8,Rxc6,a6,Ne5,axb5,Nxd7,Rxd7,a3,Ra7,f3,Ne8,f4,Nd6,f5,Nxf5,g4,Nxd4,Rc3,Ne2+,Kf2,Nxc3,Bxc3,c5,Kg2,Ra4,h3,b4,axb4,cxb4,Bd4,b5,Rc1,Raa7', 'Rc8+,Rd8,Rxd8#', 'https://lichess.org/training/by6hd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BY8Aj', 'Rapid', 'tonin1', 1706, 'Kaspachov', 1728, 'e4,e5,Nf3,Nc6,Bb5,Bc5,d3,d6,c3,Bd7,a4,a6,Bc4,Nf6,b4,Ba7,a5,Bg4,h3,Bh5,O-O,h6,Nbd2,O-O,g4,Bg6,Nh2,b5,axb6,Bxb6,Kg2,Nh7,f4,exf4,Rxf4,Qh4,Ndf3,Qf2+,Kh1,Ne5,Nxe5,Qg3,Nxg6,Ng5,Nxf8,Rxf8,Bd2,Nxh3,Qf1,Bg1,Rf3', 'Qxh2#', 'https://lichess.org/training/BY8Aj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bY8iH', 'Rapid', 'Globixcon', 1718, 'Meropa144', 1710, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e5,Bc4,Bb4,Bd2,Nc6,a3,Ba5,b4,Bb6,Nf3,Nf6,Bg5,O-O,Nd5,Bxf2+,Kxf2', 'Nxe4+,Kg1,Nxg5,Nxg5,Qxg5', 'https://lichess.org/training/bY8iH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ByatF', 'Rapid', 'camus133', 2037, 'SaIgVa-qazwsx', 2008, 'e4,e6,d4,a6,a3,b5,b4,Bb7,Nc3,h6,Nf3,d6,Bd3,Nd7,O-O,Be7,Re1,c5,d5,e5,Be3,c4,Be2,Ngf6,h3,g6,Nh2,Kf8,f4,Kg7,fxe5,Nxe5,Nf3,Nfd7,Nxe5,Nxe5,Bd4,f6,a4,Qd7,axb5,axb5,Qd2,g5,Bxe5,dxe5,Bg4,Qc7,Nxb5,Qb6+,Kh2,Qxb5,c3,Bd6,Qe2,Rxa1,Rxa1,Ra8,Rxa8,Bxa8,Bf5,Qe8,Qxc4,Bb7,Qd3,Qa4,Qf3,Qc2', 'Qh5,Bxd5,Qg6+,Kf8,Qxf6+', 'https://lichess.org/training/ByatF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ByaVf', 'Classical', 'Goke09', 2145, 'dzagar', 2255, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Nxe5,O-O,Bc4,Qe7,Nf3,Nxe4,O-O,c6,Re1,d5,Nxd5,cxd5,Bxd5,Nxf2,Kxf2', 'Qc5+,Re3,Qxd5', 'https://lichess.org/training/ByaVf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bycqm', 'Blitz', 'carlosnoriega', 1812, 'Kolegs', 1867, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Nf6,Ba4,Be7,Bc2,O-O,d3,h6,Be3,Nh7,Nbd2,f5,O-O,f4,Kh1,fxe3,fxe3,Ng5,d4,Nxf3,Nxf3,exd4,exd4,Bg5,Qd3,Qe8,e5,Bf5,Qc4+,Kh8,Bxf5,Rxf5,Nxg5,Rxg5,exd6,cxd6,Rae1,Qg6,Re6,Qc2,Re2,Qg6,Re6,Qh5,Rxd6,Re8,Re6,Rxe6,Qxe6,Rg6', 'Rf8+,Kh7,Qg8#', 'https://lichess.org/training/Bycqm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BYde3', 'Rapid', 'whobertoos', 1697, 'Jreimar', 1619, 'g3,d5,Bg2,Nf6,c4,c6,cxd5,cxd5,Qb3,e6,Nf3,Nc6,Nc3,a6,d3,e5,Bg5,d4,Ne4,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Nh4,O-O,Bxc6,bxc6,Nf3,Be6,Qb6,Bd5,O-O,e4,dxe4,Bxe4,Nd2,Bd5,Rad1,Rfe8,Rfe1,Qh6,Qxd4,Qh3,f3,Rad8,Nf1,h6,e4,Bxa2,Qa4,Rxd1,Rxd1,Be6,Qxc6,Rf8,Qxa6,Rc8,b4,Qh5,Qe2,Bb3,Rd2,Rb8,Rd5,Qg6,Rd2,Qb6+,Ne3,Qxb4,Nd5,Bxd5,Rxd5,Qb1+,Rd1,Qb6+,Kg2,Rc8,Qa2,Qb7,Rd2,Ra8,Qb2,Qe7,h4,Kh8,Rd5,Qe6,g4,f6,Qd2,Kh7,Qe3,Ra2+,Kg3,Ra1,f4,g6,Qc5,Ra8,Kf3,Rc8,Rd6', 'Qb3+,Qe3,Rc3,Qxc3,Qxc3+', 'https://lichess.org/training/BYde3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ByDwQ', 'Blitz', 'henkop', 1562, 'ashnur', 1618, 'e4,e5,d3,h6,f4,exf4,Bxf4,Nc6,Nf3,d6,Be2,Be7,O-O,g5,Bc1,Nf6,a3,Ng4,Ne1,Nce5,d4,Ng6,Bxg4,Bxg4,Qxg4,O-O,c3,d5,e5,c5,Qd1,c4,Nf3,Qb6,Kh1,f5,exf6,Rxf6,Ne5,Raf8,Rxf6,Qxf6,Nd2,Nxe5,dxe5,Qxe5,Nf3,Qe4,Nd4,Bd6,Bd2,Qe5,Qh5,Rf6,Nb5,Bb8,Re1', 'Qxe1+,Bxe1,Rf1#', 'https://lichess.org/training/ByDwQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BYE2r', 'Rapid', 'shallowlightreef', 2000, 'Julmarganit', 1988, 'c4,Nf6,g3,Nc6,Bg2,b6,d4,e6,d5,exd5,cxd5,Ne5,f4,Ng6,e4,Bc5,e5,Qe7,d6,cxd6,Bxa8,dxe5,f5,Nf8,Bg2,d6,Qa4+,N8d7,Ne2,O-O,b4,Bd4,Nxd4,exd4+,Kd1,d3,Re1,Ne5,Bf4,Nfg4,h3', 'Nf2+,Kd2,Nc4+,Kc3,Qxe1+', 'https://lichess.org/training/BYE2r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ByEOg', 'Rapid', 'idler76', 1682, 'pkaushik', 1747, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,Nc3,a6,Nxc6,bxc6,Bd3,Qa5,O-O,Bxc3,bxc3,Qxc3,Be2,e5,Bd2,Qd4,Bd3,Nf6,Be3,Qd6,Bh6,Rg8,f4,exf4,Bxf4,Qc5+,Kh1,d5,exd5,Nxd5,Re1+,Be6,c4,Nxf4,Be4,Rd8,Qf3,Qg5,Bxc6+,Kf8,g3,Rd3,Qf2,Nh3,Qb2,Bxc4', 'Re8#', 'https://lichess.org/training/ByEOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bYerf', 'Blitz', 'FM rikchess', 2342, 'vahiddddd', 2225, 'e4,Nc6,Bc4,e5,d3,Nf6,f4,Bc5,Nf3,d6,f5,d5,exd5,Nxd5,Nc3,Nxc3,bxc3,f6,Nh4,Qe7,Qh5+,Kd8,Rf1,e4,d4,Nxd4,cxd4,Bxd4,Rb1,Qc5,Qe2,Bd7,Bd2,a5,Rf4,e3,Rxd4', 'Qxd4,Bxe3,Qxh4+', 'https://lichess.org/training/bYerf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bYfWn', 'Rapid', 'ksw913', 1697, 'Ziryab', 2271, 'e4,b6,Nf3,Bb7,d3,e6,Nc3,d5,d4,Bb4,exd5,Qxd5,Bd2,Bxc3,bxc3,Nf6,Be2,Nc6,Be3,O-O,c4,Qd8,Bg5,h6,Bh4,Na5,c5,bxc5,dxc5,Qxd1+,Rxd1,Ne4,Be7,Rfe8,Bh4,Nxc5,O-O,Nc6,Bg3,e5,Bb5,f6,Nh4,Red8,Ng6,Kf7,Nh4,g6,Bc4+,Kg7,f4,Rxd1,Rxd1,exf4,Bxf4,Ne5,Be3,Nxc4,Bxc5,Bc6,Nf3,Bxf3,gxf3,Ne5,f4,Nf7,Rd7,Rd8,Rxc7,Rd1+,Kg2,Rd2+,Kg3,Rxc2', 'Bf8+,Kxf8,Rxc2', 'https://lichess.org/training/bYfWn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Byh6E', 'Blitz', 'Dorgray', 1617, 'ShashankChess', 1613, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,d5,exd5,Nxd5,O-O,Nxc3,bxc3,f6,d4,a6,Bxc6+,bxc6,dxe5,Qxd1,Rxd1,fxe5,Nxe5,Bd6,Nc4,Bc5,Be3,Bxe3,Nxe3,O-O,Rab1,Ra7,Nc4,Be6,Ne5,Bxa2,Rb2,Bd5,c4,Be4,f3,Re8,Rd7,Rxe5', 'Rb8+,Re8,Rxe8#', 'https://lichess.org/training/Byh6E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('byiSB', 'Rapid', 'acuario22', 1797, 'Y_Fingolfin', 1894, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,d6,c3,a6,d4,exd4,cxd4,Ba7,Bg5,h6,Bh4,g5,Bg3,Bg4,d5,Nd4,h3,Nxf3+,gxf3,Bxh3,e5,Nh5', 'exd6+,Kf8,dxc7', 'https://lichess.org/training/byiSB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ByJpF', 'Blitz', 'salamonp', 2200, 'Fpavoni', 2230, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bg5,g6,f3,Bg7,Qd2,Nc6,O-O-O,Nxd4,Qxd4,Be6,h4,h5,g4,hxg4,fxg4,Bxg4,Be2,Bxe2,Nxe2,Rc8,Kb1,Nh5,Qd5,Qb6,Bc1,Rc5,Qd3,Rb5,Nd4,Rb4,Nb3,Nf4,Bxf4,a5,c3,Rb5,Be3,Qa6,Bd4,a4,Bxg7,axb3,axb3,Rhh5,b4,Qa4,Qc2,Qa7,Qb3,Qe3,Qc2,Rb6,Rde1,Qf3,Rhf1,Qh3,Qb3,e6,Bd4,Ra6,b5', 'Qd3+,Qc2,Ra1+,Kxa1,Qxc2', 'https://lichess.org/training/ByJpF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BYjqu', 'Blitz', 'bestConnectionEver', 2306, 'FM avillu', 2391, 'Nf3,g6,e3,Bg7,d4,c5,Be2,Nf6,O-O,O-O,h3,d5,b3,cxd4,Nxd4,e5,Nf3,Nc6,Bb2,Ne4,c4,d4,exd4,exd4,Bd3,Nc5,a3,Nxd3,Qxd3,Bf5,Qd2,Na5,Qd1,Re8,Nbd2,Nc6,b4,a5,b5,Ne5,Bxd4,Bd3,Re1,Nxf3+,Nxf3,Bxc4', 'Rxe8+,Qxe8,Bxg7,Kxg7,Qd4+,Kg8,Qxc4', 'https://lichess.org/training/BYjqu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BYK8Z', 'Rapid', 'georgpoltevskoy', 1893, 'shardulme', 1819, 'e4,b6,d4,Bb7,Bd3,e6,f4,Nf6,Qe2,d5,e5,Ne4,Nf3,c5,c3,cxd4,cxd4,Bb4+,Bd2,Qe7,a3,Bxd2+,Nbxd2,Nxd2,Qxd2,Nc6,O-O,O-O,f5,f6,b4,fxe5,b5,Nxd4,Nxd4,exd4,fxe6,Qxe6,Rae1,Rxf1+,Bxf1,Qf6,Bd3,Rf8,Rf1,Qe5', 'Bxh7+,Kxh7,Rxf8', 'https://lichess.org/training/BYK8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ByKAs', 'Rapid', 'wisssem', 1605, 'farsitranslator', 1613, 'c4,c5,Nf3,Nc6,g3,d6,d3,h5,h4,Bf5,Be3,Bg4,Bg2,g6,Nc3,Bh6,Qd2,Bg7,Ng5,Nf6,Nce4,Nxe4,Bxe4,Bc8,Rb1,f5,Bd5,Ne5,b3,Rf8,f4,Ng4,Ne6,Bxe6,Bxe6,a5,Bd5,Qd7,O-O,e6,Bf3,d5,cxd5,exd5,Bxc5,Rh8,Rbc1,Ra6,Bxg4,hxg4,Qe3+,Kf7,Bb6', 'd4,Qd2,Rxb6', 'https://lichess.org/training/ByKAs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bYLCy', 'Classical', 'feyz123', 1885, 'andreu666', 1962, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d5,e3,O-O,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Bb2,Qa5,Be2,cxd4,Nxd4,Rd8,O-O,Qb6,Rb1,Nc6,Qa4,Nxd4,cxd4,Bxd4,Bxd4,Qxd4,Rb4,Qd2', 'Rd1,Qxd1+,Bxd1', 'https://lichess.org/training/bYLCy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BYLXi', 'Rapid', 'mgurrola', 1611, 'AnyNameHere', 1612, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,Bd2,c6,Be2,e6,O-O,Qb6,Na4,Qc7,Ne5,Bxe2,Qxe2,b5,Nc3,Bd6,Bf4,O-O,Ne4,Nd5,Bd2,Bxe5,dxe5,Qxe5,f4,Qd4+,Kh1,Qxb2,Qg4,Qxc2,Rf3,Qxe4,Re1,Nf6,Qg3,Qc2,Be3,Nbd7,f5,exf5,Bh6,g6,Bxf8,Nxf8,Qg5,Ne4,Qh4,Re8,Ref1,c5,h3,c4,g4,Qe2,gxf5,c3,fxg6,hxg6,Rxf7,Qd2,Rxa7,c2', 'Rxf8+,Rxf8,Qh7#', 'https://lichess.org/training/BYLXi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bYnKS', 'Rapid', 'synapz', 1902, 'tuvatenayo', 1867, 'd4,d5,Bf4,e6,e3,c6,Nd2,Nf6,Bd3,Nbd7,Ngf3,b6,Qe2,Bb7,O-O,Be7,h3,O-O,c4,Nh5,Bh2,Nhf6,Rfd1,c5,Rac1,Rc8,cxd5,Nxd5,Ba6,Bxa6,Qxa6,Ra8,a3,Nc7,Qd3,Nf6,Ne4,Ncd5,dxc5,Nxe4,Qxe4,bxc5,Qc4,Qc8,Ne5,Bf6,Nd3,Nb6,Qxc5,Qxc5,Rxc5,Rac8,b4,Rcd8,Kf1,Rd7,Ke2,Rfd8,Rc7,Rxc7,Bxc7,Rc8,Be5,Nc4,Bxf6,gxf6,Nc5,Nxa3,Rd7,Nc2,Rxa7,Nxb4,Nd7,Kg7,f4,Nd5,Ra3,Nc3+,Kf3,Nd5,Rb3,Rc2,Nb6,Nxb6,Rxb6,h5,Rb5,Kg6,g4,hxg4+,hxg4,Rd2,Rb8,Kg7,Rc8,Rd5,Rc1,Rd2,Rh1,Rd5,Rc1,Rd8,Rc3,Rh8,Kg3,Rh1,Rc2,Re1,Kf3,Kg6,Rc8,Rf1+,Ke2,Rg1,Kf3,Re1,Rg8+,Kh7,Rf8,Kg7,Rd8,Rh1,Rd2,Rh3+,Ke2,Rg3,g5,fxg5,fxg5', 'Rg2+,Kd3,Rxd2+', 'https://lichess.org/training/bYnKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('byO1B', 'Blitz', 'makaa', 1568, 'litlevolli', 1627, 'e4,e5,Nf3,Nf6,Bc4,Nc6,O-O,h6,Re1,Bc5,c3,O-O,d3,Na5,Bb3,Nxb3,axb3,d6,h3,a5,Be3,b6,Nbd2,Be6,Nc4,b5,Nxa5,Bb6,Nc6,Qd7,Rxa8,Rxa8,Bxb6,cxb6,Nb4,g5,Nh2,Kg7,Qf3,Bxb3,Nd5,Nxd5,exd5,Rf8,Qh5,Bxd5,Ng4,Qe6,Ne3,Bc6,Qe2,f5,Nc2,g4,h4,f4,d4,f3,Qe3,fxg2,dxe5,g3,Qxg3+,Qg6,Qxg6+,Kxg6,exd6,Kh5,Nd4,Bd5,d7,Rd8,Re7,Kxh4,Ne6,Bxe6,Rxe6,Rxd7,Rxh6+,Kg5,Rxb6,Kg4,Rxb5,Kf3,Rg5', 'Rd1+,Kh2,Rh1#', 'https://lichess.org/training/byO1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BYo7u', 'Rapid', 'JABALINEGRO', 1854, 'dan13', 1918, 'd4,d5,e3,e6,Bd3,Nf6,Nd2,Bb4,c3,Bd6,f4,c5,Ngf3,cxd4,cxd4,Nbd7,Ne5,Bxe5,fxe5,Ne4,Nxe4,dxe4,Bxe4', 'Qh4+,g3,Qxe4', 'https://lichess.org/training/BYo7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ByOY3', 'Rapid', 'bjusifov', 1848, 'Kostas32', 1817, 'd4,e6,c4,d5,Nc3,dxc4,e4,Bb4,Bxc4,Bxc3+,bxc3,e5,d5,Nf6,Bd3,Nbd7,Nf3,Nc5,Qe2,c6,Bg5,cxd5,Bxf6,gxf6,O-O,Nxd3,Qxd3,Be6,exd5,Qxd5,Qe3,a6,Rfd1,Qc6,Rab1,b5,h3,Ke7,Rd3,Rhd8,Rxd8,Rxd8,Qh6,Qxc3,Qxh7,Bxa2,Re1,Bd5,Re3,Qc1+,Kh2,Bxf3,Rxf3,b4,Qh4,Qc6,Qxb4+,Qd6,Qa5,Rc8,Ra3,Rc6,Re3,Rc5,Qa3,a5,Rb3,e4+,g3,Rc2', 'Rb7+,Ke6,Qb3+', 'https://lichess.org/training/ByOY3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('byqkV', 'Blitz', 'stefanodincecco', 1885, 'hardtobeat', 1833, 'd3,Nf6,e4,d6,Nc3,e5,f4,Nc6,f5,g6,Nf3,Bd7,fxg6,hxg6,Be3,Qe7,Qd2,O-O-O,O-O-O,Ng4,h3,Nxe3,Qxe3,f5,exf5,gxf5,Nb5,Kb8,d4,f4,Qe4,Bh6,dxe5,dxe5,Nc3,Rhf8,Nd5,Qc5,Nxe5,Bf5,Nxc6+,Qxc6,Qc4,Rxd5,Rxd5,Qe6,Rd1,f3+,Kb1,Qxc4,Bxc4,fxg2,Rhg1,Bxh3,Bd5,Be3,Rxg2,Bxg2,Bxg2,b6,b3,Bc5,a4,Ba3,Be4,Rf2,Bd3,Kc8', 'Ba6+,Kb8,Rd8#', 'https://lichess.org/training/byqkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bYQtd', 'Classical', 'TheUn-Castler', 1769, 'LIS25', 1741, 'Nf3,d5,c4,c6,cxd5,cxd5,d4,Bf5,Bf4,Bxb1,Rxb1,Nc6,e3,e5,Nxe5,Bb4+,Ke2,Nxe5,Bxe5,Nf6,Qa4+,Qd7,Qxb4,Ne4,Rc1,a5,Qa3,Qb5+,Kd1,Nxf2+,Kd2,Ne4+,Kc2,Rc8+,Kb1', 'Nd2+,Ka1,Rxc1#', 'https://lichess.org/training/bYQtd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bYRS5', 'Classical', 'Paky', 1782, 'dontstopdk', 2031, 'd4,d5,c4,c6,e3,Nf6,Nf3,Bg4,cxd5,cxd5,Be2,Nc6,Nc3,e6,O-O,Bd6,h3,Bf5,a3,a6,b4,Rc8,Bb2,Bb8,Bd3,Ne4,Bxe4,dxe4,Nd2,Qd6,f4,exf3,Nxf3,O-O,e4,Bg6,e5,Qd8,Ne2,Ba7,Kh1,Be4,Ng3,Bxf3,Qxf3,Nxd4,Bxd4,Qxd4,Rad1,Qxe5,Rd7,Rc7', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/bYRS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bYrvn', 'Classical', 'Miko_Novo', 1853, 'saffox', 1931, 'f4,Nf6,g3,d5,Bg2,c6,Nh3,Bxh3,Bxh3,e6,O-O,Bd6,d3,h5,Nd2,Bc5+,Kg2,Ng4,Nb3,Ne3+,Bxe3,Bxe3,c3,g5,fxg5,Qxg5,d4,h4,Rf3,f5,Qd3,f4,Raf1,hxg3,hxg3,Nd7,Bxe6,Qh5,Bxd7+,Kxd7,Nc5+,Kc8,Rxe3', 'Qh2+,Kf3,Qxg3#', 'https://lichess.org/training/bYrvn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BySyB', 'Blitz', 'Chrikarl', 2225, 'Chandragupta_Maurya', 2199, 'd4,e6,c4,d5,Nf3,Nf6,Bg5,Be7,e3,O-O,Nc3,b6,cxd5,exd5,Bd3,Bb7,O-O,Nbd7,Qe2,c5,Rac1,Re8,dxc5,bxc5,Rfd1,h6,Bh4,Nf8,Bb5,N8d7,Bxf6,Nxf6,Bxe8,Qxe8,Qb5,Qc8,Ne5,Rb8,Qe2,Qc7,f4,d4,exd4,cxd4,Nd5,Qd6,Nxe7+,Qxe7,Rxd4,Nd5,Qd2,Qe6,Nf3,Rd8,Rd1,g6,h3,Qb6,Kh2,Qd6,Ne5,Qf6,Nc4,Rd7,Ne3,Nxe3,Rxd7,Nxd1,Rd8+,Kg7,Qxd1,Qxf4+,Kg1,Qe3+,Kh1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/BySyB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BysYv', 'Blitz', 'zzzove', 1591, 'nik_mic', 1518, 'd4,d5,Nf3,Nf6,c3,e6,Bg5,h6,Bh4,c5,e3,Nc6,Bb5,a6,Ba4,b5,Bc2,Bd6,O-O,c4,Nbd2,O-O,a3,Re8,Re1,e5,b3,e4,Nb1,exf3,Qxf3,Bg4,Bxf6,Bxf3,Bxd8,Bxg2,Kxg2,Raxd8,bxc4,dxc4,Nd2,Re6,Ne4,Rg6+,Kh1,Rg4,Rg1,Rh4,Nxd6,Rxd6,Be4,Rf6,Bxc6,Rxc6,Rg2,Rf6,Rag1,g6,e4,Rxe4,Rc1,h5,Rc2,Kh7,h3,Rf3,Kh2,Rh4,Rg3,Rxg3,fxg3,Re4,Kg2,Re3,Kf2,Rd3,Kg2,Kg7,g4,hxg4,hxg4,Kf8,g5,Ke7,Re2+,Kd6,Rc2,Ke6,Re2+,Kd5,Rf2,Rxc3,Rxf7,Rxa3,Rd7+,Ke4,Rd6,c3,Rxg6,c2,Rc6,Kxd4,Rxc2,Rc3', 'Rxc3,Kxc3,g6,b4,g7,b3,g8=Q', 'https://lichess.org/training/BysYv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BYtXO', 'Rapid', 'Kiarie003', 1792, 'vig4540', 1850, 'e4,c6,d4,d5,e5,c5,dxc5,Nc6,Nc3,h6,Nf3,Bg4,Qxd5,Qxd5,Nxd5,O-O-O,Ne3,Bxf3,gxf3,Nxe5,Bh3+,e6,f4,Nf3+,Ke2,Nd4+,Kf1,Bxc5,c3,Nc6,Kg2,Bxe3,fxe3,Nf6,Re1,Rd7,e4,Rhd8,e5,Nh5,Be3,Na5,f5,Re7,fxe6,fxe6,Bg4,g6,Bxa7,Ng7,Bb6,Rd5,Bf3,Rb5,Bxa5,Rxa5,b3,Nf5,c4,Nh4+,Kg3,Nxf3,Kxf3,Rf7+,Kg2,Rf5,Re2,Raxe5,Rae1,Rxe2+,Rxe2,Kd7,Rf2,e5,Rd2+,Kc6,Rd8,h5,b4,b5,cxb5+,Kxb5,Rb8+,Kc6,b5+,Kc7,Rg8,g5,a4,g4,a5,e4,b6+,Kb7,Rg7+,Ka6,b7,Rb5,Kf2,Kxa5', 'Rg5,Rxg5,b8=Q', 'https://lichess.org/training/BYtXO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Byu0j', 'Rapid', 'MaxEve', 1923, 'Ewgeni1935', 1918, 'e4,e6,c4,b6,d4,Bb7,Nc3,Ne7,Bd3,h6,Nf3,Ng6,a3,d6,O-O,Be7,Be3,Nd7,Qc2,O-O,Rad1,c5,d5,e5,h3,Nf6,Nh2,Nh5,Be2,Nhf4,Bg4,Bc8,Ne2,Nxe2+,Qxe2,f5,exf5,Bxf5,f4,exf4,Bxf4,Nxf4,Rxf4,Bxg4,Rxf8+,Qxf8,Nxg4,Bf6,Qe6+,Kh7,Nxf6+,Qxf6,Rf1,Qd4+,Kh1,Qe5,Qf5+,Kg8,Qf7+,Kh7,Qb7,Re8,Qxa7,Qe2,Qf7,Re5,b3,Rg5,Rf2,Qd1+,Kh2,Qxb3,Qe7,Qxc4,Qxd6,Qxd5,Qxb6,c4,Qe3,Qd6+,Kh1,Qc6,Rc2,Rg6,Qc3,Qc5,a4,Rd6,Qxc4,Rd1+,Kh2,Qe5+,g3,Rd4,Qc5', 'Rd2+,Rxd2,Qxc5', 'https://lichess.org/training/Byu0j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('byuCO', 'Rapid', 'murtaza5', 1743, 'Vovakan', 1735, 'd4,d5,c4,e6,Nf3,Nf6,g3,b6,Bg2,Bb7,O-O,dxc4,Qa4+,Nbd7,Qxc4,Be7,Bf4,c5,Nc3,O-O,dxc5,Bxc5,Rfd1,Qc8,Qd3,Ba6,Qc2,Nd5,Ng5,N7f6,Nxd5', 'Bxf2+,Kxf2,Qxc2,Nxf6+,gxf6', 'https://lichess.org/training/byuCO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BywOS', 'Rapid', 'huhq', 1772, 'Ryno9', 1660, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,Be7,O-O,O-O,Re1,Nc6,a3,Bg4,b4,Nd4,h3,Bxf3,gxf3,Qd7,Kh2,Nh5,Nd5,c6,Nxe7+,Qxe7,Rg1,Qf6,Be2,Nf4,Bc4,Qh4,Rg3,Nh5,c3,Ne6,d4,Nxg3,fxg3,Qf6,d5,cxd5,Bxd5,Rab8,Be3,a6,c4,Nd4,Bxd4,exd4,Kg2,Rfe8,Ra2,b5,Rd2,bxc4,Bxc4,Re5,Bxa6,Ra8,b5,Kf8,Rxd4,Re6,a4,g6,Bb7,Ra7,Bd5,Re8,Bb3,Rd8,f4,Ke7,Qe1,Qxd4,a5,Qb2+,Qf2,Qxb3,Qxa7+,Rd7,Qb6,Qa2+,Kf3,f6,Kg4,Qa3,a6,Qc5', 'Qxc5,dxc5,b6', 'https://lichess.org/training/BywOS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bYWud', 'Blitz', 'Roromehtz', 1657, 'sadeghahmadi', 1813, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Nxe4,Qxd4,Nf6,Nc3,Nc6,Qd3,Bc5,O-O,O-O,Bg5,h6,Nd5,hxg5,Nxg5,Ne5', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/bYWud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bYX02', 'Rapid', 'Lisandro_88', 1915, 'NetoSales', 1897, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Bc5,h3,d5,Bg5,h6,Bxf6,Qxf6,Bxc6+,bxc6,O-O,dxe4,dxe4,O-O,Nbd2,Rd8,Qe2,Bd6,Nc4,Qg6,Kh2,Bb7,Rad1,c5,Nxd6,cxd6,Rfe1,Re8,Nh4,Qg5,Nf5,d5,Nd6,Re7,Nxb7,Rxb7,Rxd5,Rxb2,Rxc5,Rab8,Qc4,Qf4+,Kg1,Rb1,Rc8+,Rxc8', 'Qxc8+,Kh7,Rxb1', 'https://lichess.org/training/bYX02');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('byX6D', 'Rapid', 'ChessterWNimitz', 1768, 'Yogeee', 1690, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d3,Bc5,Ng5,O-O,Bxf7+,Rxf7,Nxf7,Kxf7,Nc3,d5,Bg5,d4,Nd5,Bg4,f3,Bh5,Qd2,h6,Bh4,Qd6,Nxf6,Bb4,c3,dxc3,bxc3,Nd4,Nxh5,Ba5,a4,Qc6,Qa2+,Kg6,O-O,Bxc3,Rac1,Kxh5,Bg3,b5,axb5,Nxb5,Qb3,Nd4,Qxc3,Ne2+,Kh1,Nxc3,Bxe5,Qb5,Bxc3,Qxd3,Bxg7,a5,Bb2,a4,g4+,Kg5,Rc5+,Kg6,Kg2,Qe2+,Rf2,Qe3,Rc3,Qb6,Kg3,a3,Bxa3', 'Rxa3,Rxa3,Qd6+,e5,Qxa3', 'https://lichess.org/training/byX6D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ByxcO', 'Blitz', 'Xavon', 1797, 'Edisonpaulo', 1933, 'e4,c5,f4,Nc6,Nf3,d6,c3,Nf6,d3,e5,fxe5,dxe5,Be3,Bg4,Be2,Be7,O-O,Qc7,Bf2,Rd8,Na3,Nxe4,Nc4,Nxf2,Rxf2,b5,Ncxe5,Nxe5,Nxe5,Be6,Ng4,O-O,Qc2,Bg5,Kh1,h5,h4,hxg4,hxg5,g3,Rf3,Bd5,Rf5,g6,Rf6,Kg7,Bf3,Qe5,Qd2,Rh8+,Kg1,Bxf3,Rxf3,Rh5,Raf1,Rd7,Rf6,Rxg5,R1f3,Re7,Kf1,Rh5,Kg1,Rh1+,Kxh1', 'Qh5+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/ByxcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bYXcx', 'Classical', 'AgnethaFaltskog', 1905, 'Danlasder6K', 1950, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,Nf6,h5,Be4,Ng5,Bd5,c4,h6,cxd5,hxg5,dxc6,Nxc6,Bb5,Rc8,d4', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/bYXcx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BYxfD', 'Blitz', 'kingers82', 1594, 'accountnr1234', 1581, 'e4,c5,Nf3,d6,Bc4,e6,d3,Nf6,Bg5,Be7,Nc3,h6,Bh4,e5,Bxf6,Bxf6,Nd5,Bg5,Nxg5,hxg5,Qf3,f6,O-O-O,Be6,c3,Bxd5,Bxd5,Nc6,Bxc6+,bxc6,d4,cxd4,cxd4,exd4,Rxd4,d5,exd5,cxd5,Re1+,Kf7,Rxd5,Qc7+,Kb1,Rad8,Qb3,Rxd5,Qxd5+,Kg6,Qe4+,Kf7,Qd5+,Kg6,g4,Rd8,Qf5+,Kf7,Rc1,Qd6,h4,gxh4,Qh5+,Kg8,Qxh4,Qd2,Rh1', 'Qd3+,Ka1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/BYxfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bz5ya', 'Blitz', 'CM Floman', 2297, 'smurfkasmaca', 2248, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bg5,O-O,e3,Nbd7,Bd3,c6,O-O,h6,Bf4,dxc4,Bxc4,b5,Bd3,Bb7,Rc1,a6,Ne4,Nxe4,Bxe4,Qb6,Ne5,Nxe5,Bxe5,Rfd8,Qf3,Rac8,Qg3,f6,Qg6,fxe5,Qxe6+,Kh8,Qxe7,exd4,exd4', 'Re8,Qf7,Rxe4', 'https://lichess.org/training/bz5ya');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bz7ws', 'Blitz', 'Mel1984', 1559, 'jcmme', 1560, 'e4,c5,Nf3,Nc6,Bc4,e5,d3,Be7,c3,Nf6,O-O,O-O,h3,d6,Nbd2,Qb6,Re1,Bd7,Nf1,a5,a4,Qd8,Ne3,b6,Nd5,Nxd5,Bxd5,Rc8,Nd2,Nb8,Nf1,Bc6,Ne3,Bg5,Bxc6,Nxc6,Nd5,Bxc1,Qxc1,Ne7,b4,Nxd5,exd5,axb4,cxb4,cxb4,Qb2,Rc3,Qxb4,Rxd3,a5,bxa5,Rxa5,Rd4,Qa3,Qc7,Rc1,Qb6,Rc6,Qb1+,Kh2,Rd3,Qxd6,Qb2,Rc7,Qxf2', 'Qxf8+,Kxf8,Ra8#', 'https://lichess.org/training/Bz7ws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BZ9MR', 'Rapid', 'Atilaa', 1970, 'olegop', 1964, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qa4,e6,a3,Nf6,Nc3,d6,Bf4,Bd7,Nb5,Nb8,Qc4,Bc6,O-O-O,Nxe4,Nh3,a6,Nd4,Be7', 'Nxc6,bxc6,Qxe4', 'https://lichess.org/training/BZ9MR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bZaE5', 'Rapid', 'LagusWielgus', 2047, 'grueso13', 1931, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Nc3,Bb7,Bf4,Nf6,O-O-O,Bc5,Qd3,O-O,f3,Nh5,Be3,Bxe3+,Qxe3,d6,g4,Nf6,h4,Qe7,g5,Nh5,Bh3,Rad8,Bg4,g6,Bxh5,gxh5,Qd4,d5,e5,c5,Qf4,d4,Ne4,Bxe4,Qxe4,Rfe8,f4,Qe6,Kb1,Qd5,Qe2,c4,Qxh5,d3,cxd3,cxd3,Rh3,d2,Qe2,Re6,Rh2,Qd4,Qxd2', 'Qe4+,Ka1,Rxd2', 'https://lichess.org/training/bZaE5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bZbkA', 'Blitz', 'aritraiitk', 1899, 'MAVERICK2205', 1915, 'd4,Nf6,Nf3,e6,c4,d5,Nc3,b6,e3,Bb7,cxd5,Nxd5,Bd3,Bb4,Qb3,Bxc3+,bxc3,O-O,e4,Nf6,Bg5,Nbd7,O-O,c5,e5,h6,Bh4,Bxf3,gxf3,g5,Bg3,Nd5,c4,Nf4,Bxf4,gxf4,Be4,Rc8,Kh1,Kh8,Rad1,Qh4,Qc3,Rg8,d5,Rg5,dxe6,Qxh2+,Kxh2,Rh5+,Kg2', 'Rg8+,Bg6,Rxg6#', 'https://lichess.org/training/bZbkA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bzC4d', 'Rapid', 'mortty', 1624, 'tullaris', 1618, 'd4,e6,Bf4,d5,e3,Nf6,Nf3,Bd6,Bg3,Bxg3,hxg3,b6,Bd3,Bb7,Nbd2,Nc6,Ng5,Qd7,Qe2,O-O-O,c3,Kb8,c4,Ne4,Ngxe4,dxe4,Nxe4,Nb4,b3,Nxd3+,Qxd3,f5,Nc3,Bxg2,Rg1,Be4,Nxe4,fxe4,Qxe4,e5,O-O-O,Rhe8,dxe5,Qe7,Rxd8+,Rxd8,Rd1', 'Qa3+,Kc2,Qxa2+', 'https://lichess.org/training/bzC4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BzCiY', 'Rapid', 'Mytilini', 1660, 'RomanNorman35', 1662, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,Qf3,Nf6,d3,Qa5+,c3,Nd4,Qf4', 'Nxb3,axb3,Qxa1', 'https://lichess.org/training/BzCiY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bZdiA', 'Classical', 'Boviced', 1881, 'Adiahirwar', 1904, 'c4,e5,Nc3,Nc6,g3,f5,Bg2,Nf6,e3,d5,cxd5,Nb4,d4,e4,Bf1,Nbxd5,Bc4,Be6,Nxd5,Nxd5,Ne2,Bd6,Nc3,c6,Nxd5,cxd5,Bb5+,Bd7,Qb3', 'Qa5+,Bd2,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/bZdiA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BZEjO', 'Classical', 'AbouChakra', 1926, 'santosbetim', 1775, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,h3,Nf6,a3,a6,d3,h6,O-O,O-O,Re1,Be6,Nd5,Nd4,c3,Nxf3+,Qxf3,Bxd5,Bxd5,Nxd5,exd5,Ba7,Be3,Bxe3,Rxe3,f5,Qh5,Qf6,Rae1,Rae8,f4,e4,dxe4,Rxe4,Rxe4,fxe4,Rxe4,Kh7,Qf3,Qf5,Re7,Rf7,Rxf7,Qxf7,g4,g6,Kg2,Qe7,Kf2,Kg7,Qe3,Qh4+,Qg3,Qe7,c4,c6,Qc3+,Kf7,Kf3,Qh4,Kg2,Qe7,b4,Qe2+,Kg3,h5,Kh4,Qe7+,Kg3,hxg4,hxg4,Qe4,g5,Qe7,dxc6,bxc6,Qd2,Qe4,Qxd6,Qe1+,Kf3,Qh1+,Ke3,Qg1+,Ke4,Qg2+,Kd4,Qd2+,Ke5', 'Qe3#', 'https://lichess.org/training/BZEjO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bzEZ0', 'Rapid', 'misofiro', 1864, 'alinpop', 1988, 'e4,c5,Nf3,d6,Bb5+,Bd7,a4,a6,Be2,Nc6,c3,Nf6,Bd3,e5,O-O,Be7,Bc4,Nxe4,d3,Nf6,Bg5,O-O,Bxf6,Bxf6,Nbd2,Bg4,h3,Bh5,g4,Bg6,Bd5,Bxd3,Re1,h6,Be4,Bxe4,Nxe4,Be7,Qd5,Qc7,Red1,Rad8,g5,hxg5,Nexg5,Bxg5,Nxg5,Ne7,Qf3,Ng6,Qh5,Rfe8,Qh7+,Kf8,h4,Qe7,f4,Qf6,Rf1,exf4,Qh5,Re3', 'Nh7+,Ke7,Nxf6', 'https://lichess.org/training/bzEZ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BZf5c', 'Rapid', 'jamx', 1632, 'DjordjePunos1', 1896, 'e4,e5,Nc3,Nc6,Bb5,d6,d4,exd4,Qxd4,Bd7,Bxc6,Bxc6,Nf3,Nf6,Bg5,Be7,O-O,O-O,Rfe1,h6,Bh4,Nd7,Bxe7,Qxe7,Nd5,Qd8,c4,Re8,b4,Bxd5,cxd5,Ne5,Nxe5,Rxe5,f4,Rh5,Re3,Qh4', 'Rh3,Qxh3,gxh3', 'https://lichess.org/training/BZf5c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BZGrJ', 'Blitz', 'Cevad', 1829, 'tugrulsari', 1782, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Bf5,Be3,e6,Be2,c6,a3,h6,Nf3,Nf6,h3,Be7,O-O,Nbd7,Nh2,O-O,f3,Nb6,b3,Bd6,Qd2,Qe7,Nd1,Bxa3,Nf2,Bb4,c3,Bd6,c4,Nc8,Kh1,Qc7,f4,g5,c5,Bxf4,Bxf4,gxf4,Nd1,f3,Bxf3,Ne7,Qxh6,Be4,Qxf6,Bxf3,Rxf3,Ng6,Ng4,Qd8,Ndf2,Qxf6,Nxf6+,Kg7,N2g4,Rad8,Rd1,Nh4,Rg3,Nf5,Rgd3,e5,Nh5+,Kg6,Nhf6,exd4,Ne4,Rfe8,Nef2,Rd5,b4,Re2,Kg1,Rb2,Ne4,Rxb4,Nd6,Nxd6,cxd6,Rxd6,Ne5+,Kf6,Nc4,Rd5,Rf3+,Kg7,Nd2,d3,Rdf1,Rd7,Rg3+,Kf8,Nf3,d2,Ne5,Rd5', 'Rxf7+,Ke8,Rg8#', 'https://lichess.org/training/BZGrJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BZIvC', 'Classical', 'shabnam30', 1795, 'pablito48', 1784, 'e4,a6,d4,h6,Nf3,e6,Ne5,d5,Qf3,Nf6,exd5,exd5,Nc3,Be6,Bd3,c5,dxc5,Bxc5,O-O,Bd6,Qg3,Bxe5,Qxe5,Nc6,Qg3,Nh5,Qf3,Nf6,Re1,Qc7,Bf4,Qb6,Na4,Qb4,b3,Nd4,Qg3,Nh5,Qe3,Nxf4,Qxf4', 'Ne2+,Rxe2,Qxf4', 'https://lichess.org/training/BZIvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bziy7', 'Rapid', 'de_wolf', 1841, 'DarkHorse1962', 1833, 'Nf3,f5,d4,Nf6,g3,e6,Bg2,Be7,c4,O-O,Nc3,c6,Qc2,d5,O-O,Na6,a3,Nc7,Ne5,Ng4,Bf4,Nxe5,Bxe5,dxc4,e4,Bd6,exf5,exf5,Rae1,Bxe5,dxe5,Be6,f4,Qe8,Na4,b5,Nc3,Rd8,Rd1,Bd5,Nxd5,cxd5,Rd4,Qe6,Rfd1,Rf7,Qc3,Rfd7,Qa5,a6,Qd2,g6,Qe2,Qc6,Qc2,Ne6,R4d2,Qc5+,Kh1,d4,h3,d3,Qc3,Qd4,Kh2,Nc5,Qxd4,Rxd4,Bf1,Ne4,Rg2,c3,bxc3,Nxc3,Rdd2,Ne4,Rd1,Kf7,Rb2,Ke7,Bg2,Nc3,Rdd2,Na4,Rb3,Nc5,Rc3,Ne4,Rc7+,R8d7,Rxd7+,Kxd7,Bxe4,fxe4,Kg1,Ke6,Rf2,Rc4,Kf1,Rc1+,Kg2,Rc3,Rd2,Rxa3,Kf2,Rc3,Ke3,Kd5,Ra2,Rc6,g4,b4,Ra5+,Ke6,Kd2,Rc2+,Ke3,Re2+,Kd4,Rc2,Rxa6+,Ke7,Kxe4,d2,Ra7+,Ke6', 'f5+,gxf5+,gxf5#', 'https://lichess.org/training/Bziy7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BzJuE', 'Classical', 'mvelesov', 1758, 'Roger_0914', 1675, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,d6,h3,Nf6,a3,a6,Be3,Be7,Nc3,Na5,Ba2,Bd7,O-O,O-O,Nd5,c6,Nxf6+,Bxf6,Nh2,b5,Ng4,Kh7,f4,Bxg4,Qxg4,Qc8,Qh5,g6,Qe2,exf4,Rxf4,Bxb2,Rb1,Be5,Rxf7+,Rxf7,Bxf7,Qd7,Ba2,Rf8,Rf1,Rxf1+,Kxf1,Nb7,Qd2,Qg7,c4,Bg3,cxb5,axb5,Kg1', 'Qa1+,Qc1,Qxa2', 'https://lichess.org/training/BzJuE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BZkNh', 'Rapid', 'kl123', 1633, 'Denisibadlaev', 1601, 'd4,d5,Bf4,Nf6,e3,Nc6,Nf3,e6,c4,dxc4,Bxc4,Bd6,Bg3,Bxg3,hxg3,Ng4,Bd3,e5,Ng5,Qxg5,f4,exf4,gxf4,Qf6,f5,Nxe3,Qe2,Qe7,Kf2,Nxf5,Qf3,Ncxd4,Bb5+,Nxb5,Re1,Qxe1+,Kxe1,Nfd4,Qe4+,Be6,Nc3,Nxc3,bxc3,Nc6,Rb1,O-O,Rxb7,Rfe8,Kf2,Bd7,Qd5,Red8,Rxc7,Ne7,Qd6,Nf5,Qe5,Rac8,Rxa7,f6', 'Qd5+,Kf8,Rxd7', 'https://lichess.org/training/BZkNh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BzlZF', 'Rapid', 'Coolfir', 1997, 'msaoodmohmed', 2092, 'e4,e5,Nf3,d6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Qf6,Bxd5+,Be6,Bxe6+,Kxe6,Qxb7,Bc5,O-O,Nd7,c3,Bd6,d4,e4,Qxe4+,Kf7,Nd2,Rae8,Qc6', 'Bxh2+,Kxh2,Qxc6', 'https://lichess.org/training/BzlZF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bzn2a', 'Blitz', 'WIM andy_rekt', 2207, 'Jhonsmit', 2311, 'c4,e5,Nc3,Nc6,g3,Nf6,Bg2,Bb4,e3,d6,a3,Bc5,Nge2,a5,O-O,O-O,d4,Ba7,Rb1,Bf5,e4,Bg4,f3,exd4,Nb5,Bb6,Nexd4,Nxd4,Nxd4,Be6,b3,a4,Be3,axb3,Nxe6', 'Bxe3+,Kh1,fxe6', 'https://lichess.org/training/bzn2a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bZNCe', 'Rapid', 'oguzsert74', 1665, 'Flaming_Arrow', 1713, 'e4,c5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Re1,d6,h3,e5,a4,Be7,c3,O-O,d4,cxd4,cxd4,b6,Nc3,Bb7,dxe5,Nxe5,Nxe5,dxe5,Qf3,Qd4,Ba2,Bc5,Be3,Qd6,Rad1,Qc6,Nd5,Bxe3', 'Ne7+,Kh8,Nxc6', 'https://lichess.org/training/bZNCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bzNJN', 'Rapid', 'DozingCrocodile', 2124, 'ttzz', 2075, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,d6,h3,a6,b4,Bb6,a4,a5,b5,Nb8,Bg5,Be6,Nbd2,O-O,O-O,Bxc4,Nxc4,Nbd7,Nxb6,Nxb6,d4,exd4,cxd4,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Qe7,Qf3,Kg7,Rfe1,Qe6,e5,Nh7,Bf4,d5,Re3,Nc4,Rc3,Rg8,Qh5,Qg6', 'Rg3,Kh8,Rxg6', 'https://lichess.org/training/bzNJN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bZP51', 'Rapid', 'KrLuch', 1942, 'Nekedisjo', 1996, 'd4,Nf6,c4,e6,Nc3,d5,e3,Be7,Nf3,O-O,Bd3,a6,O-O,dxc4,Bxc4,b5,Bd3,c5,dxc5,Bxc5,Ne4,Be7,Nxf6+,Bxf6,Be4,Ra7,Qc2,g6,Rd1,Qc7,Qb3,Bb7,Bxb7,Rxb7,Bd2,Nd7,Rac1,Qb6,Bc3,Rc8,Bd4,Rxc1,Bxb6,Rxd1+,Qxd1,Nxb6,Qd6', 'Rd7,Qxd7,Nxd7', 'https://lichess.org/training/bZP51');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bzpwX', 'Rapid', 'cherep766', 2007, 'Tafongjoel', 1895, 'd4,Nf6,c4,d5,c5,c6,Nf3,Bf5,h3,e6,Nc3,b6,b4,Nbd7,e3,Qc7,Bd3,Bxd3,Qxd3,Be7,O-O,O-O,a4,bxc5,dxc5,Rab8,Rb1,e5,Qd2,Rfd8,a5,Ne4,Qc2,Nxc3,Qxc3,Bxc5,Nxe5,Bxb4,Qxc6,Qxe5,Bb2,Qd6,Qa4,Nc5,Qa1,f6,Bd4,Ne4,Bxa7,Ra8,Bb6,Nd2,Rxb4,Qxb4,Rd1,Rdb8,Qa2,Qxb6', 'Qxd5+,Qe6,Qxe6+', 'https://lichess.org/training/bzpwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bzqO9', 'Rapid', 'gustavoparaguacu', 1769, 'Kelten-Uli', 1738, 'd4,d5,Na3,a6,c4,e6,cxd5,Bxa3,Qa4+,Bd7,Qxa3,exd5,Qg3,g6', 'Qe5+,Qe7,Qxh8', 'https://lichess.org/training/bzqO9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bzsRk', 'Rapid', 'RocknRoll88', 1853, 'mdismile', 1881, 'd4,d5,Nf3,Nc6,Bf4,Bg4,Nbd2,e6,c3,h6,h3,Bh5,e3,Be7,Be2,Nf6,O-O,O-O,Qb3,Rb8,Rfe1,Bd6,Ne5,Bxe2,Rxe2,Bxe5,Bxe5,Nxe5,dxe5,Nd7,f4,c5,Nf3,c4,Qc2,Nc5,Rd1,b5,e4,Nd3,exd5,exd5,g3,Qb6+,Kh2,a5,Ne1,Nxe1,Rdxe1,Rbd8,e6,fxe6,Rxe6,Qa7,Re7,Rd7,Re8,d4', 'Rxf8+,Kxf8,Qf5+,Rf7,Qc8#', 'https://lichess.org/training/bzsRk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BztVi', 'Rapid', 'vn-yar', 1854, 'Nosfereti', 1818, 'g4,d5,Bg2,c6,h3,e5,e4,d4,d3,Ne7,f4,exf4,Bxf4,Ng6,Bh2,Qh4+,Kf1,h5,Nf3,Qf6,g5,Qd8,h4,Be7,c3,Bg4,cxd4,Bxf3,Qxf3,Qxd4,Nc3,Bc5,Bg1,Qb4,Bxc5,Qxc5,Ke2,Nd7,Raf1,Nde5,Qf5,O-O,Rd1,Rad8,Rd2,Ng4,Qxc5,Nf4+,Kd1,Nxd3,Rxd3,Rxd3+,Kc2,Rfd8,Kb3,b6,Qxc6,a5,Qxb6,Ne3,Bf1,R3d4,Bb5', 'Rb4+,Ka3,Nc2#', 'https://lichess.org/training/BztVi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bzUKh', 'Rapid', 'jazz64', 1805, 'vri777', 1868, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Bd7,Nf3,Bc6,Bd3,Nd7,O-O,Ngf6,Bg5,Be7,Nxf6+,Nxf6,c3,Bxf3,Qxf3,c6,h3,Qa5,Bf4,O-O,g4,Nd5,Qe4,g6,Bh6,Rfd8,g5,Nb6,h4,Bf8,b4,Qd5,Qf4,e5,Qe4,Bxh6,gxh6,exd4,Qf4,Qe6,Rfe1,Qd6', 'Re8+,Rxe8,Qxd6', 'https://lichess.org/training/bzUKh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bzus1', 'Rapid', 'Dzejkobo', 2001, 'Ariantal', 2006, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,c6,e3,Be7,Nf3,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Nd2,f5,Be2,O-O,O-O,b6,Rc1,Bb7,c5,Nd7,b4,Nf6,a4,Qc7,Bc4,Rae8,h3,Bc8,Qc2,Kh8,Bb3,Bd7,Nc4,Nd5,Qd2,bxc5,bxc5,Rb8,Rb1,Rb4,Ne5,Rfb8,Bc2,a5,f3,Nf6,Rxb4,Rxb4,fxe4,fxe4,Qd1,h6,Qe1,Be8,Qg3,Qb8,Kh2,Rb2,Bd1,Rb1,Kg1,Kh7,Bg4,Rxf1+,Kxf1,Qb1+,Kf2,Nd5,Bxe6,Qc1,Ng4,Qd2+,Kg1,Nc3,Nf6+,Kh8,Nxe8', 'Ne2+,Kh2,Nxg3', 'https://lichess.org/training/Bzus1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BZWFH', 'Rapid', 'maria-linh', 1864, 'maskins', 1928, 'g3,e5,Bg2,Nf6,c4,d5,cxd5,Nxd5,Qb3,c6,Nc3,Be6,Qxb7,Nd7,Qxc6,Nxc3,Qxa8,Qxa8,Bxa8,Nd5,Bxd5,Bxd5,f3,e4,fxe4,Bxe4,Nf3,Bc5,d3,Bb7,Rf1,O-O,e4,Re8,Bd2,f5,O-O-O,fxe4,dxe4,Bxe4,Ng5,Bg6,Bc3', 'Be3+,Rd2,Bxg5', 'https://lichess.org/training/BZWFH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bzWWI', 'Blitz', 'Mikha15890', 1619, 'Berni95', 1544, 'c4,e6,Nc3,Nc6,d3,Nf6,Nf3,b6,Bg5,Be7,g3,h6,Bf4,Bb7,Bg2,Nh5,Bd2,f5,O-O,g5,Ne1,g4,f3,Nxg3,hxg3,gxf3,Rxf3,h5,Kf2,Bg5,e3,h4,Nc2,Ne5,e4,Nxf3,Bxf3,hxg3+,Kxg3,f4+,Bxf4,Bh4+,Kg2,Bg5,Be3,Bxe3,Nxe3,Qg5+,Kf2,Rh2+,Ng2,O-O-O,Qe2,Rf8,Rg1,d5,cxd5,exd5,exd5,Kb8,Qe4,Qd2+,Qe2,Qf4,Rf1,Qf6,Ke1,Qh4+,Kd2,Qg5+,Kc2,Rxf3,Qxf3,Rxg2+,Kb1,Qd2,Nd1,Bxd5,Qxd5', 'Qc2+,Ka1,Qc1#', 'https://lichess.org/training/bzWWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BzxPA', 'Rapid', 'Kanem', 1999, 'andreuverdes', 1912, 'e4,e6,d4,d5,Nc3,Nc6,e5,Nge7,f4,Nf5,Nf3,Bd7,g4,Nh4,Be3,Nb4,Nxh4,Qxh4+,Bf2,Qd8,a3,Nc6,Qf3,Be7,O-O-O,a6,Kb1,Na5,f5,c6,Bd3,Qb6,Na4,Qc7,Bg3,O-O-O,f6,gxf6,exf6,Bd6,Nb6+,Kb8,Bxd6,Qxd6,b4,Ka7,Nxd7,Rxd7,bxa5,Qxa3,Be2,Qxa5,Kb2,c5,Qa3,Qb6+,Qb3,c4,Qxb6+,Kxb6,c3,Kc6,g5,Ra8,Bh5,b5,Ra1,a5,h4,Rda7,Bg4,b4,cxb4,axb4,Rxa7,Rxa7,Ra1', 'c3+,Kb1,c2+,Kxc2,Rxa1', 'https://lichess.org/training/BzxPA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bZZgj', 'Rapid', 'FxKn', 1947, 'Gimlix', 1900, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,h6,Bh4,d6,h3,a6,Nc3,Na5,Bb3,Nxb3,axb3,g5,Nxg5,hxg5,Bxg5,c6,Qf3,Be6,Qxf6,Qxf6,Bxf6,Rg8,g3,Kd7,h4,Rg6,Bg5,f5,exf5,Bxf5,Ne4,Bb6,Nf6+,Ke6,Ne4,Rf8,O-O,Bh3,Rfe1,d5,Nf6,Rgxf6,Bxf6,Rxf6,Re2,Bg4,Rd2,Kd6,Kg2,Bd4,c3,Bb6,Rf1,Rf3,Re1,Bc7,Re3,Rf5,f3,d4,cxd4,exd4,Re1,Rxf3', 'Re4,Bh5,g4', 'https://lichess.org/training/bZZgj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c00MW', 'Rapid', 'guille13', 1701, 'goowee2008', 1685, 'e4,e6,d4,d6,c4,h6,Nc3,Nf6,Nf3,Nc6,Be3,Qd7,Be2,b6,h3,Bb7,Qc2,O-O-O,O-O-O,Nb4,Qb3,d5,e5,Ne4,Nxe4,dxe4,Nd2,Bc6,Qa3', 'Nd3+,Bxd3,Bxa3', 'https://lichess.org/training/c00MW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c00N7', 'Classical', 'morgate56', 1673, 'Nihat_Nerse', 1623, 'e4,e5,Nf3,Nc6,d4,d5,dxe5,dxe4,Qxd8+,Nxd8,Nfd2,Bf5,c3,f6,exf6,Nxf6,Be2,Ne6,O-O,Bd6,f3,O-O,Na3,e3,Ndc4,Bc5,Bxe3,Bxe3+,Nxe3,Bg6,Bc4,Rfe8,Rae1,Kh8,f4,Nc5,f5,Bh5,Rf4,Re7,b4,Nce4,g4,Be8,Nd5,Rd7,Nxf6,Nxf6,Be6,Rd3,Nb5,Bxb5,g5,Ne8,Rh4,Rxc3,Ree4,Rc1+,Kf2,Rc2+,Ke1,Nd6', 'Rxh7+,Kxh7,Rh4#', 'https://lichess.org/training/c00N7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C051u', 'Rapid', 'romek1', 1716, 'Umeshvarr', 1773, 'c4,d5,cxd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Nc6,Nf3,Bg4,e3,e6,Be2,O-O-O,O-O,Be7,Ne5,Nxe5,Bxg4,Nxg4,Qxg4,h5,Qf3,Qb5,Qxf7,Bd6,Qxe6+,Kb8,b3', 'Bxh2+,Kxh2,Qxf1', 'https://lichess.org/training/C051u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c071F', 'Rapid', 'Djons', 1679, 'triplekriz', 1606, 'g3,Nf6,e3,c5,Nc3,Nc6,a3,e5,Bc4,Be7,Nf3,d6,Bxf7+,Kxf7,Ng5+,Ke8,O-O,h6,Nge4,d5,Nxf6+,Bxf6,d4,cxd4,exd4,Nxd4,Qh5+,Kf8,Be3,b6,Rad1,Be6,Bxd4,exd4,Nb5,Qd7,Nxd4,Bxd4,Rxd4,Rc8,c3,Qf7', 'Rf4,Qxf4,gxf4', 'https://lichess.org/training/c071F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C07tI', 'Rapid', 'Thwaythit', 1656, 'iftina', 1822, 'Nc3,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bf4,d5,e3,Nf6,h3,O-O,Bd3,a5,a3,Re8,O-O,Ba6,Re1,Qd7,e4,Bxd3,Qxd3,Nh5,Be3,d4,Ne2,dxe3,Qxd7,exf2+,Kh2,Bd6+,g3,fxe1=Q,Rxe1,Rxe4,Qf5,Nxg3,Nxg3,Rxe1,Kg2,Bxg3,Kxg3,g6,Qd7,Rb8,Qxc7,Rxb2', 'Qd8+,Kg7,Qd4+,f6,Qxb2', 'https://lichess.org/training/C07tI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c0Clg', 'Rapid', 'Ledutorri', 1954, 'BBD28', 2049, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,Nf3,O-O,cxd5,Nxd5,Be2,b6,e4,Nxc3,bxc3,Ba6,e5,c5,Bxa6,Nxa6,O-O,cxd4,cxd4,Rc8,Ba3,Bh6,Bc1,Bg7,Rb1,Qd5,Qb3,Qe4,Re1,Qb7,Bg5,Nc7,Bxe7,Rfe8,Bf6,Bxf6,exf6,Nd5,h3,Nxf6,Ne5,Nd5,Qf3,Rcd8,Ng4,Qc7', 'Rxe8+,Rxe8,Qxd5', 'https://lichess.org/training/c0Clg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C0DLy', 'Rapid', 'BispoDoRei', 1885, 'mv_vagabond', 1785, 'g4,g6,Nc3,Bg7,b3,d5,e3,e6,Bb2,f6,Qe2,e5,O-O-O,Nc6,f4,f5,gxf5,Bxf5,Nf3,Nge7,fxe5,Nxe5,Nxe5,Bxe5,h4,Qd7,Qf3,Bg4,Qg2,Bxd1,Kxd1,O-O-O,Qg5,Bxc3,Bxc3,Rhe8,Bf6,Qf5', 'Bh3,Qxh3,Rxh3', 'https://lichess.org/training/C0DLy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C0dpG', 'Blitz', 'charlybravo', 1722, 'maik1988', 1780, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Qe7,a3,Ngxe5,Nxe5,Bxc3+,bxc3,Nxe5,e3,Ng6,Bxc7,O-O,Bd3,d6,Ba5,b6,Bb4,a5,Bxg6,axb4,Be4,Bb7,Bxb7,Qxb7,O-O,bxc3,Qc2,Rfc8,Rfd1,Rc6,Qxc3,Rac8,Qd4,Qa6,h3,h6,g4,Qa4,Rd2,Rxc4,Qxd6,Rc1+,Rxc1,Rxc1+,Kh2,Qe4,Qd8+,Kh7,Qd3,Rh1+,Kg3,Rg1+,Kh4', 'g5+,Kh5,Qg6+,Qxg6+,fxg6#', 'https://lichess.org/training/C0dpG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C0DyO', 'Rapid', 'Victor808', 1831, 'Loverboy_in', 1859, 'd4,d5,Bf4,Nc6,e3,e6,Be2,Nf6,c3,Bd6,Bg5,h6,Bh4,Be7,Nd2,O-O,Nb3,e5,dxe5,Nxe5,Nf3,Nxf3+,Bxf3,Be6,O-O,c6,Nd4,Bd7,a4,Ne4,Bxe7,Qxe7,Qc2,a6,b4,Rab8,Be2,Nf6,Rae1,Qd8,f3,Re8,h3,Rxe3,Qd2,Re8,Qf4,b5,a5,Qc8,Bd3,c5,Ne2,cxb4,cxb4,Be6,Nd4,Qd7,Bf5,Bxf5,Nxf5,Rxe1,Rxe1,Qa7+,Kh1,Qf2,Qxb8+,Kh7,Qf8', 'Qxe1+,Kh2,Qe5+', 'https://lichess.org/training/C0DyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C0guu', 'Blitz', 'Positional_game', 2140, 'Crimea-1', 1983, 'c4,c5,b3,Nc6,Bb2,e5,g3,g6,Bg2,Bg7,e3,Nge7,Ne2,O-O,O-O,d6,Nbc3,Be6,d4,cxd4,exd4,exd4,Nb5,d3,Ned4,a6,Nxe6,fxe6,Bxg7,Kxg7,Bxc6,Nxc6,Nc3,Ne5,Kg2,Qf6,Ne4,Qe7,f4,d5,cxd5,exd5,Nf2,Nc6,Qxd3,Rad8,Rfe1,Qf6,Rac1,d4,Ne4,Qf5,Nc5,Rfe8,Qxf5,gxf5,Ne6+,Kf6,Nxd8,Rxd8,Rcd1,d3,Re3,Nb4,a3,Nc2,Rexd3', 'Rxd3,Rxd3,Ne1+,Kh3,Nxd3', 'https://lichess.org/training/C0guu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c0HrP', 'Rapid', 'Kloppfrosch', 1720, 'mdalla91', 1717, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be3,Bxe3,fxe3,h5,Be2,Ng4,Qd2,Qh4+,g3,Qf6,Nc3,Qf2+,Kd1,Nxe3+,Kc1,Ng4,d4,Be6,d5,cxd5,exd5,O-O-O,b3,Bxd5', 'Bxg4+,hxg4,Qxf2', 'https://lichess.org/training/c0HrP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c0jGx', 'Blitz', 'FM Gmantrax', 2406, 'Pepenov', 2094, 'c4,e5,Nc3,f5,g3,Nf6,Bg2,d6,e3,c5,Nge2,Nc6,O-O,Be6,b3,Be7,d4,cxd4,exd4,exd4,Nxd4,Nxd4,Qxd4,O-O,Bb2,Rb8,Rfe1,Bf7,Rad1,a6,Bd5,Ng4,Ne4,Ne5,Nd2,Bf6,Bxf7+', 'Nxf7,Qd3,Bxb2', 'https://lichess.org/training/c0jGx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c0Ksd', 'Rapid', 'NoahMelto', 1844, 'Alex1955', 1918, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,h3,h6,d3,Nf6,Be3,O-O,Bxc5,dxc5,O-O,Nd4,Nxe5,Be6,Bxe6,fxe6,Nf3,a6,Nxd4,cxd4,Ne2,e5,c3,c5,Qb3+,Rf7,cxd4,cxd4,a4,Qd7,f4,exf4,Rxf4,Kh7,Raf1,Raf8,e5,Nd5,Rxf7,Rxf7,Nxd4', 'Rxf1+,Kxf1,Ne3+,Ke2,Qxd4', 'https://lichess.org/training/c0Ksd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C0M9U', 'Rapid', 'remziatas', 1972, 'Jay_1999', 1991, 'Nf3,Nf6,g3,d5,Bg2,Nc6,O-O,e5,d3,Bd6,Nbd2,Bg4,e4,dxe4,dxe4,Nd4,h3,Nxf3+,Nxf3,Bh5,Qe2,Ke7,Rd1,Bxf3,Bxf3,Qd7,Kg2,h6,c4,Qc6,b3,g5,g4,Rad8,Bb2,Nh7,Rd5,f6,Rad1,Nf8,c5,Ne6,cxd6+,Rxd6,Rxd6,cxd6,Qc4,Nf4+,Kg3,Qd7,Ba3,h5,Rxd6,hxg4,Bxg4', 'Rxh3+,Bxh3,Qxh3#', 'https://lichess.org/training/C0M9U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c0ND8', 'Classical', 'giodeme1', 1762, 'smog78', 1741, 'e4,e5,g3,Nf6,Bg2,Nc6,Nc3,Bb4,Nge2,Nd4,O-O,O-O,a3,Nxe2+,Nxe2,Bc5,b4,Bb6,Bb2,d6,d4,Bg4,dxe5,dxe5,Bxe5,Re8,Qxd8,Raxd8,Bxf6,gxf6,Rfe1,Rd2,Nc3,Bd4,Nd5,Bxa1,Rxa1,Rd8', 'Nxf6+,Kf8,Nxg4,Rd1+,Rxd1', 'https://lichess.org/training/c0ND8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C0OYA', 'Blitz', 'krama2018', 2315, 'Bust_hisass', 2160, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,Qc2,c6,e3,Nbd7,Bd3,Nh5,Bxe7,Qxe7,Nge2,g6,O-O,O-O,a3,Ndf6,b4,Bd7,b5,Qd6,bxc6,Ng4,g3,Bxc6,a4,f5,Nf4,Nxf4,exf4,Rac8,Qb3,Nf6,Rfe1,Rfe8,Re5,Ng4,Re2,Qf6,Nxd5,Qxd4,Ne7+,Kh8,Qa2,Bf3,Rd2,Rxe7,Bxf5,Rce8,Rf1,Re1,Bxg4,Rxf1+,Kxf1,Bxg4,Rxd4', 'Bh3+,Kg1,Re1#', 'https://lichess.org/training/C0OYA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C0QH0', 'Rapid', 'CedrickG', 1604, 'Balmond', 1634, 'd4,d5,c4,c6,e3,Nf6,Nf3,Bg4,h3,Bh5,Be2,Bxf3,Bxf3,e6,O-O,Nbd7,Nc3,e5,dxe5,Nxe5,cxd5,Nxd5,Be2,Nxc3,Qxd8+,Rxd8,bxc3,Be7,Bb2', 'Rd2,Rfe1,Rxb2', 'https://lichess.org/training/C0QH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C0sTD', 'Blitz', 'FM WelshWhiteSinge', 2281, 'madhacker', 2212, 'd4,e6,c4,b6,Nc3,Bb4,a3,Bxc3+,bxc3,Nf6,e3,Bb7,f3,O-O,Bd3,d6,Ne2,Nbd7,O-O,e5,Ng3,Re8,Qc2,Nf8,e4,Ng6,Nf5,Bc8,Bg5,h6,Bd2,c5,g4,Nf4,Bxf4,exf4,Qd2,Bxf5,exf5,Re3,Rae1,Qe7,Re2,Re8,Rfe1,Nd7,Be4,Rxe2,Rxe2,Qg5,dxc5,Nxc5,Bd5,Rxe2,Qxe2,Qf6', 'Qe8+,Kh7,Bxf7,Qxf7,Qxf7', 'https://lichess.org/training/C0sTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c0UNX', 'Rapid', 'Aligh1364', 1878, 'Moncajo', 1835, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Nd7,O-O,c5,c3,cxd4,cxd4,Bb4,a3,Ba5,b4,Bb6,Bg5,Ne7,Bxe7,Qxe7,Nbd2,O-O,Nb3,h6,Rfc1,Rac8,Nc5,Nxc5,bxc5,Ba5,Qb5,b6,c6,Rc7,Rc2,Rfc8,Rac1,Qxa3,h3,Qb4,Qd3,Qa4,Qa6,Rxc6,Rxc6', 'Rxc6,Rxc6,Qxc6', 'https://lichess.org/training/c0UNX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C0vhB', 'Rapid', 'Gasto0', 1755, 'zacnick', 1671, 'd4,Nf6,Bf4,e6,e3,Nc6,a3,Bd6,Bxd6,cxd6,c4,d5,c5,Qa5+,Nc3,O-O,b4,Qc7,Nf3,d6,Nb5,Qd7,Nxd6,b6,Bb5,a6,Bxc6,Qxc6,Ne5,Qc7,Rc1,Nd7,Nxd7,Bxd7,O-O,Rab8,Qf3,a5,b5,bxc5,dxc5,Bxb5,Nxb5,Rxb5,c6,Rfb8,Rc3,Rb1,Rfc1,a4,e4,Qa5,exd5,R8b3,c7,Qxc3', 'Qxc3,Rxc3,Rxb1', 'https://lichess.org/training/C0vhB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c0y5z', 'Classical', 'Yriirnd', 1718, 'mohamedsofiane', 1705, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Nf6,d3,Be7,c4,d5,cxd5,cxd5,Nxe5,dxe4,Nc6,Qd7,Nxe7,Kxe7,O-O,Re8,Re1,Kf8,Bg5,Bb7,Nc3,exd3,Rxe8+,Nxe8,Qd2,h6,Be3,Nf6,Rd1,Ba6,a4,Qd6,Rb1,c5,f3,c4,b4,cxb3,Rxb3,Qd7,Nb5,Bxb5,axb5,Rd8,b6,Nd5,bxa7,Nxe3,a8=Q,Rxa8,Rxd3,Ra1+,Kf2,Ng4+,hxg4,Qa7+,Re3', 'Ra2,Qxa2,Qxa2+', 'https://lichess.org/training/c0y5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c14Mp', 'Blitz', 'lopez2020', 1870, 'nenadddd', 1852, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Nf3,Bb4,e3,c6,a3,Ba5,Bd2,Bg4,Be2,Bxc3,Bxc3,Ne4,Rc1,Nxc3,Rxc3,Nd7,O-O,Nf6,Ne5,Bxe2,Qxe2,Ne4,Rc2,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/c14Mp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C15cJ', 'Rapid', 'Soshe', 2306, 'aboaser', 2143, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,f4,Ne7,Nf3,Qb6,O-O,Nd7,c3,c5,a3,Rc8,b4,cxd4,cxd4,a6,Nc3,Nc6,Be3,Be7,f5,O-O,fxe6,fxe6,Na4,Qb5,Qxb5,axb5,Nc5,Bxc5,bxc5,b6,cxb6,Nxb6,Rfb1,Nc4,Bf2,Rb8,Rb3,N6a5,Rb4,Nc6,Rbb1,Rb6,Be1,Ra8,Bb4,Nxb4,Rxb4,Rxa3,Rab1,Ra5,h3,h6,Kh2,Na3,R1b2,Rc6,R4b3,Rc2', 'Rxa3,Rxb2,Rxa5', 'https://lichess.org/training/C15cJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C16UE', 'Classical', 'aivo2', 1751, 'john_knight', 1694, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,h6,Nc3,d6,d4,exd4,Nxd4,Nxd4,Qxd4,Be7,e5,dxe5,Qxe5,O-O,Bxh6,gxh6,Rae1,Qd6', 'Qxe7,Qxe7,Rxe7', 'https://lichess.org/training/C16UE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c19ef', 'Classical', 'aryasinic', 1701, 'DRASR', 1707, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Bc5,Nc3,Nf6,h3,Na5,Bd5,d6,a3,O-O,b4,Nc6,bxc5,Nxd5,Nxd5,dxc5,Bb2,f6,c4,Nd4,Nh4,c6,Ng6,Rf7,Ne3,Qa5+,Kf1,Ne6,Nf5,Qd8,Qg4,Nf8,Nxh6+,gxh6', 'Ne7+,Kh7,Qg8#', 'https://lichess.org/training/c19ef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C19nS', 'Rapid', 'Gandalf67', 2202, 'Jobopopo', 1842, 'd4,d5,Bf4,e6,e3,Nf6,Nd2,c5,c3,cxd4,exd4,Bd6,Bg3,Nc6,Ngf3,O-O,Bd3,a6,Ne5,Qc7,f4,h5,Bh4,Be7,Bxf6,Bxf6,Qxh5,g6,Qg4,Kg7,h4,Rh8,Nxg6,e5,Qg3,e4,Nxh8+,Kxh8,Be2,Bf5,Qe3,Rg8,g4,Bxg4,Kf2,Ne7,Bxg4,Rxg4,Rag1,Nf5,Rxg4,Nxe3,Kxe3,Qd7,Rhg1,Qf5,Nf1,Qh5,Kd2,b5,Ne3,a5,a4,bxa4,Rg8+,Kh7,Ra8,Qxh4,Rg2,Qxf4,Rxa5,Bg5,Re2,Qb8,Kc1,Bxe3+,Rxe3,Qf4,Kd2,Qf2+,Re2,Qf4+,Re3,Qh2+,Re2,Qh6+,Kd1,Qc6,Rg2,Qb6,Rxd5', 'Qb3+,Kc1,Qxd5', 'https://lichess.org/training/C19nS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c1C41', 'Rapid', 'StRzElEcWy3oRoWy', 1720, 'Lit_Pepito', 1634, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,f4,c5,Nb5,O-O,Nc7,Nc6,Nxa8,cxd4,Nf3,Qb4+,Qd2,Qxb2,Rd1,a6,Nxd4,Nxd4,Qxd4,Qxa2,Nc7,Rd8,Qd2,d4,Na8,Nc5,Nb6,Ne4,Qd3,Nc3,Rd2', 'Qb1+,Kf2,Qxb6', 'https://lichess.org/training/c1C41');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C1C5I', 'Rapid', 'Hamid857_moazzami', 1606, 'Samyak_k', 2041, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,O-O,d4,Nd7,Bc2,Re8,Be3,Nb6,b3,Bg4,Nbd2,exd4,cxd4,Bf6,h3,Bxf3,Nxf3,Nb4,a3,Nxc2,Qxc2,c5,Rac1,c4,e5,dxe5,dxe5,cxb3,Qxb3,Be7,Bxb6,Qxb6,a4,b4,Rc4,a5,Rec1,Rad8,Rc6,Qb7,Rc7,Qd5', 'Qxd5,Rxd5,Rxe7', 'https://lichess.org/training/C1C5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C1Ciy', 'Blitz', 'Andy-Tal', 1592, 'RadDraper', 1682, 'e4,e5,Nf3,Nc6,d4,Bd6,d5,Nce7,Bg5,h6,Be3,Nf6,Nc3,a6,Nh4,Ng6,Nf5,O-O,Nxd6,cxd6,a4,b6,Bd3,Bb7,O-O,b5,axb5,axb5,Rxa8,Qxa8,Nxb5,Qb8,c4,Ba6,Qa4,Bxb5,cxb5,Ne7,b6,Nc8,Qa5,Ng4,Bd2,Nxb6,h3,Nf6,Bb4,Nc8,Ba6,Nxe4,Bxc8,Rxc8,Qa6,Nc5,Qa5,Nb3,Qa4,Nc5,Qa5,Nd3,Bc3,Nc5,Qa3,Qb7,Bb4,Qxd5,Bxc5,Rxc5,b4,Rc8,Rb1,Ra8,Qb3,Qxb3,Rxb3,Rb8,b5,Kf8,Kf1,Ke7,Ke2,Ke6,Kd3,Kd5,f3,Kc5,Ke4,Rxb5,Rxb5+,Kxb5,Kd5,f6,Kxd6,Kc4,Kxd7,Kd4,Ke6,Ke3,Kf7,Kf2,Kxg7,Kxg2,Kxf6,Kxf3,Kxe5,Kg3,Kf5,h5,Kg5', 'h4,Kf5,Kxh3,Kf4,Kg2', 'https://lichess.org/training/C1Ciy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c1E5J', 'Classical', 'Buchori', 1683, 'AlanAlvess', 1682, 'e4,e5,Nf3,Qf6,c3,Bc5,d4,Bd6,Bg5,Qe6,b3,Nf6,Nbd2,h6,Bxf6,gxf6,dxe5,Bxe5,Bc4,Qe7,O-O,Bxc3,Rc1,Bxd2,Qxd2,Nc6,a3,d6,Rfe1,Bg4,Bb5,Bd7,Bxc6,Bxc6,Qf4,O-O-O,Nd4,Bd7,Qe3,h5,Nb5,Bxb5,Qxa7,c6,a4,Ba6', 'Rxc6+,Kd7,Rxa6', 'https://lichess.org/training/c1E5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C1e6g', 'Rapid', 'piechess97', 1619, 'khezrnejad', 1627, 'e4,e5,Nf3,Qf6,Nc3,c6,d4,d6,dxe5,dxe5,Bc4,Be7,O-O,Qg6,Nxe5,Qf6,Ng4,Bxg4,Qxg4,a5,a4,Nd7,Re1,Bb4,e5,Nxe5,Bf4,Bd6,Bxe5,Bxe5,Ne4,Qg6,Bxf7+,Kxf7,Qd7+,Ne7,g3,Bxb2,Rad1,Be5', 'Nd6+,Bxd6,Rxd6,Qxd6,Qxd6', 'https://lichess.org/training/C1e6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C1eRp', 'Rapid', 'zionw', 1864, 'Galdricchess', 1796, 'e4,d6,d4,f5,Nc3,Nf6,Bd3,e5,dxe5,dxe5,exf5,e4,Nxe4,Nxe4,Bxe4,Qxd1+,Kxd1,Bc5,Be3,Bxe3,fxe3,O-O,Bd3,Bxf5,e4,Bg4+,Be2', 'Rf1+,Kd2,Rxa1', 'https://lichess.org/training/C1eRp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C1jUM', 'Bullet', 'Motzart777', 1668, 'dtoledo', 1709, 'd4,Nf6,c4,g6,Nc3,d5,c5,Bg7,Bg5,O-O,Qd2,c6,e3,Na6,a3,Nc7,Bd3,Bd7,Nf3,a6,e4,Bg4,Ne5,Be6,O-O,Ng4,Nxg4,Bxg4,e5,Bd7,b4,Ne6,Bh6,Bxh6,Qxh6,Nxd4,Rae1,Ne6,Re3,Ng7,f4,Bf5,Bxf5,Nxf5,Qh3,d4,Rd3,Qc8,Ne4,Ne3,Rf3,Qxh3,Rxh3,Rad8,Ng5,Nf5,Rxh7', 'f6,exf6,exf6,Ne6,Kxh7', 'https://lichess.org/training/C1jUM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C1me3', 'Rapid', 'NOVICHOK666', 1786, 'ahmad_rajab', 1756, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,d6,O-O,Be7,Nd5,Nxd5,Bxd5,O-O,c4,Bf6,Rb1,Rb8,b3,b6,Qf3,Be6,Qg3,Bxd5,exd5,Kh8,Bf4,Bh4,Qg4,f5,Qh3,Bg5,Qf3,Bxf4,Qxf4,Qf6,Rfe1,Rfe8,Kf1,Rxe1+,Rxe1,g5,Qd2,Kg7,Re6,Qa1+,Ke2,Rf8,Rxd6', 'Qe5+,Qe3,Qxd6', 'https://lichess.org/training/C1me3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c1mpv', 'Rapid', 'svman4', 1606, 'xAKEP228', 1619, 'e4,c6,Nf3,d5,e5,f6,d4,fxe5,Nxe5,Nf6,Bg5,e6,Bxf6,Qxf6,Qh5+,g6,Qh3,Bc5,c3,Bd6,Qe3,O-O,Ng4,Qg7,Bd3,Nd7', 'Qxe6+,Kh8,Qxd6', 'https://lichess.org/training/c1mpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c1nwY', 'Rapid', 'pepsikolla', 2011, 'eoi', 1932, 'd4,d5,Nf3,Bg4,Ne5,Bh5,c3,Nf6,Qb3,Qc8,e4,c6,exd5,Nxd5,g4,Bg6,Bg2,e6,O-O,Bd6,f4,Bxe5,fxe5,O-O,c4,Ne7,Bg5,Qd7,Be3,Na6,Nc3,Nc7,Qxb7', 'Rfb8,Qxb8+,Rxb8', 'https://lichess.org/training/c1nwY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C1pIE', 'Blitz', 'Mihenk', 1767, 'fracton', 1781, 'e4,d5,Nf3,dxe4,Ng5,Bf5,Bc4,e6,d4,exd3,Bxd3,Bxd3,Qxd3,Qxd3,cxd3,c6,Bf4,Nd7,Nc3,Ngf6,O-O-O,h6,Nf3,Bb4,a3,Bxc3,bxc3,O-O,h3,Nd5,Bd2,N7b6,g4,g5,h4,f6,hxg5,hxg5,Nd4,e5,Nf5,Na4,Kc2,Nf4,Rh2,Rad8,Bxf4,exf4,Rdh1,Kf7,Rh7+,Ke6,Rxb7,Nc5,Rxa7,Nxd3,Ng7+,Ke5,Ra5+,c5,f3,Rh8,Rd1,Rh2+,Kb3,Rb8+,Kc4,Nb2+,Kxc5,Nxd1', 'Kc6+,Rb5,Rxb5#', 'https://lichess.org/training/C1pIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C1thk', 'Rapid', 'tplink1000', 1739, 'tutansetamon99', 1897, 'e4,c5,f4,Nf6,e5,Nd5,g3,e6,Bg2,d6,Bxd5,exd5,Qe2,dxe5,Qxe5+,Be7,Qxg7,Kd7,Qxf7,Re8,Qxd5+,Bd6+,Ne2,Nc6,d4,cxd4,Nd2,Kc7,Nf3,Be6,Qb5,a6,Qd3,Rc8,Bd2,Kb8,O-O-O,Bxa2,Nexd4,Nxd4,Qxd4,Qc7,Bc3,Qc6,Ne5,Bxe5,fxe5,Red8,Qxd8,Rxd8,Rxd8+,Kc7,Rhd1,Be6,R8d6,Qe8,Ba5+,b6,Bxb6+,Kb7,Bd4,Bf5,Rb6+,Kc7,Rd6,Qa4,Bc3,Qe4,R6d2,Kb6,Kb1,a5,Rd6+,Kc7,Bxa5+,Kb7,Bc3', 'Qxc2+,Ka1,Qa4#', 'https://lichess.org/training/C1thk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c1xvR', 'Classical', 'CluelessCamel', 1733, 'dp10', 1734, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,d4,b5,Bb3,exd4,Nxd4,Nxd4,Qxd4,Qf6,Be3,Qxd4,Bxd4,c5,Bd5,Rb8,Be3,g6,Nd2,Bg7,Rb1,Ne7,c4,O-O,O-O,Nxd5,exd5,Bf5,cxb5,Bxb1,Rxb1,axb5,Bf4,Rfd8,Ne4,Bf8,f3,f5,Ng5,Rbc8,Ne6,Re8,Nxf8,Rxf8,Bxd6,Rfd8,Bf4,Rxd5,Kf1,Re8,Rc1,c4,a3,Rd4,g3,Kg7,Rc2,h6,Bd2,Kh7,Bc3,Rd3,f4,g5,fxg5,hxg5,Rf2,Kg6,Kg2,Rde3,Kf1,g4,Rd2,Rf3+,Kg2,Rd3,Rf2,Rde3,Kf1,Rd8,Kg2,Rdd3,Rc2,Kf7,Rf2,Rf3,Re2,Rde3,Rd2,Ke6,Rc2,Kd5,Rd2+,Rd3,Re2,Rfe3,Rf2,Ke6,Rc2,Rd8,Rf2,Red3,Re2+,Kf7,Rf2,Kg6,Re2,R3d6,Bb4,R6d7,Re6+,Kf7,Re2,Rh8,Bc3,Rh7,Rf2,Kg6,Re2,Rd6,Bb4,Rc6,Bc3,Rf7,Rf2,Rc8,Re2,Rd8,Re6+,Kg5,Be5,Rh7', 'Bf6+,Kh5,Bxd8', 'https://lichess.org/training/c1xvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C24Iy', 'Bullet', 'And1927', 1649, 'khail', 1768, 'e4,c5,Nf3,Qa5,Be2,g6,O-O,Bg7,c3,Nf6,e5,Nd5,d4,O-O,c4,Nc7,d5,d6,exd6,exd6,h3,b5,Bd2,b4,Qc2,Bf5,Bd3,Bxd3,Qxd3,Nd7,b3,Bxa1,Bh6,Bg7,Qd2,Rfe8,g4,Ne5,Nxe5,Bxe5,g5,Bg7,f4,Re4,f5,Rd8,fxg6,hxg6,Bxg7,Kxg7,Qb2+,Re5,Nd2,Qa3,Qa1,Kg8,Nf3,Re2,Qf6,Rde8,Nh4,Qb2', 'Qxf7+,Kh8,Nxg6#', 'https://lichess.org/training/C24Iy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C24wf', 'Rapid', 'Si73', 1979, 'Omaryoussef', 1976, 'd4,e6,c4,Nf6,Nc3,Be7,Nf3,O-O,Bg5,h6,Bf4,c6,e4,d6,Bd3,d5,cxd5,exd5,exd5,cxd5,O-O,Bb4,Nb5,a6,Nc7,Ra7,Qb3,Nc6,Rac1,Bd6,Bxd6,Qxd6,Nxd5,Nxd5,Bc4,Nf4,Ne5,Nxe5,dxe5,Qg6,g3,Bh3,Rfe1,b5,Bf1,Qh5,Re4,Bxf1,Rxf1,Ne2+,Kh1,Rd7,e6,Rd2,exf7+,Kh8,Re8,Nxg3+,Kg2,Rd8,Rxd8,Rxd8,fxg3,Rf8,Qe6,Kh7,Qe7,Qd5+,Kh3,Qh5+,Qh4,Qxh4+,gxh4,Kg6,Rf2,Rxf7', 'h5+,Kxh5,Rxf7', 'https://lichess.org/training/C24wf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c27F9', 'Classical', 'MaenDassin', 1724, 'oduistan', 1839, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,d3,Bc5,Nd2,h6,Nb3,Bb6,a4,a5,Qf3,Qf6,Bf4,d6,O-O,g5,e5', 'Qxf4,Qxf4,gxf4', 'https://lichess.org/training/c27F9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C2BPi', 'Rapid', 'yahya1359', 1969, 'piri_caissa', 2007, 'g3,d5,Bg2,e5,c4,c6,cxd5,cxd5,d4,e4,Nc3,f5,f3,Nf6,fxe4,fxe4,Bg5,Be7,e3,O-O,Nge2,Bg4,O-O,Nbd7,a3,Nb6,b3,Rc8,Qd2,Qd7,Nf4,a6,a4,Bb4,Rac1,h6,Bxf6,Rxf6,Qb2,Rfc6,Nfe2,Qc7,h3,Be6,Nxe4,dxe4,Bxe4,Rxc1,Rxc1,Qe7,Rxc8+,Nxc8,Bg2,Nb6,Nf4,Bf7,e4,g5,Ne2,Bh5,g4,Bg6,Ng3,Qc7,Qf2,Qc1+,Kh2,Qf4,Qe2,Nd7', 'Qc4+,Bf7,Qxb4,h5,gxh5', 'https://lichess.org/training/C2BPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C2GEC', 'Blitz', 'FastBananna', 2491, 'CM gonavarrete', 2595, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Nc6,c4,Bb4+,Nbd2,Nxd2,Bxd2,Bxd2+,Qxd2,dxc4,Bxc4,O-O,O-O,Bg4,Qf4,Bxf3,Qxf3,Qxd4,Bb5,Qxb2,Bxc6,bxc6,Qxc6,Qb6,Qc2,Rad8,Rfc1,Rd7,Rab1,Qa6,h3,g6,Rb4,Rfd8,Qa4,Qe2,Rbb1,Rd2,Rf1,Rxa2,Qc6,Qe7,Rb7,Rd7,Rb8+,Kg7,Qc3+,f6,Re1,Qa3,Qc4,Rf7,Ree8,Ra1+,Kh2,Qd6+,g3,Qd2', 'Rg8+,Kh6,Qh4#', 'https://lichess.org/training/C2GEC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C2I63', 'Rapid', 'FalconChurch13', 1864, 'Prayforhumility', 1919, 'c4,c6,Nc3,d5,cxd5,cxd5,d4,Nc6,g3,Bg4,Bg2,Qc8,Nxd5,Nf6,Nxf6+,exf6,Nf3,Bh3,O-O,Bxg2,Kxg2,Bd6,d5,Ne5,Qa4+,Kf8,Bf4,g5,Nxe5,Bxe5,Bxe5,fxe5,Rac1,Qd8,e4,h5,Qb4+,Kg7,Qxb7,h4,Rc7,Qf6,Qc6', 'h3+,Kg1,Qf3', 'https://lichess.org/training/C2I63');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C2ihe', 'Rapid', 'Eman80', 1680, 'BSCH', 1693, 'a4,d5,d4,Bf5,a5,c6,Bf4,e6,Nd2,Bb4,c3,Bxa5,Be5,f6,Bxb8,Qxb8,Rxa5,Qc7,Qa1,a6,Ngf3,Nh6,c4,O-O-O,cxd5,exd5,h4,Rhe8,h5,Ng4,b4,Qe7,Nh4,Bd3,Rh3,Bxe2,Nf5,Qxb4', 'Bxe2,Rxe2+,Kxe2', 'https://lichess.org/training/C2ihe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C2jJL', 'Blitz', 'GM Saltaev', 2497, 'FM haychesspoker', 2531, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Qc2,Re8+,Ne2,h6,Be3,Nd7,c4,c5,O-O,Qc7,h3,cxd4,Bxd4,Ne5,Nc3,Bxh3,Nb5,Qd7,Nxd6,Qxd6,Bxe5,Rxe5,gxh3,Rg5+,Kh1,Qe6,Kh2,Rh5,Bh7+,Kh8,Qd3,g6,Rae1,Qf5,Qxf5,Rxf5,Bxg6,fxg6,Re7,Rc8,b3,b5,cxb5,Rxb5,Rxa7,Rd5,Re1,Rd3,Ree7,g5,Rh7+,Kg8,Rag7+,Kf8,Rh8+,Kxg7,Rxc8,Rd2,a4,Rxf2+,Kg3,Rb2,Rb8,Kg6,a5,f5,Rb6+,Kh5,a6,f4+,Kf3,Ra2,h4,Ra1,hxg5,hxg5,Rc6,Rf1+,Kg2,Ra1,Kf3,Rf1+,Kg2,Rb1,a7,Ra1,Rc7,Kg4,Kf2,Ra2+,Ke1,f3', 'Rc4+,Kg3,Ra4', 'https://lichess.org/training/C2jJL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c2JQz', 'Rapid', 'JEDIUS', 2131, 'antoinegiann', 2179, 'c4,Nf6,Nc3,c6,g3,d5,cxd5,cxd5,Bg2,d4,Nb1,Nc6,Nf3,e5,d3,Bd6,O-O,O-O,Nbd2,Be6,b3,Rc8,Nc4,Bxc4,bxc4,h6,Nd2,b6,Qa4,Qc7,Ba3,Bxa3,Qxa3,a5,Qa4,Na7,Rfc1,Nd7,Rab1,Nc5,Qc2,Nc6,a3,a4,Bxc6,Qxc6,Rb4,Rfe8,f3,f5,Rcb1,Rb8,Rb5,e4,dxe4,fxe4,Nxe4,Nxe4,fxe4,Rxe4,c5,Qe6,R1b2,Rf8,Qd3,Qf5,Qf3,Qg5,Qxe4', 'Qc1+,Kg2,Qf1#', 'https://lichess.org/training/c2JQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C2N7r', 'Classical', 'tinarezaeian', 1831, 'holychipokared', 1748, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Bc4,Be7,O-O,O-O,Nde2,Qc7,Bb3,Bd7,f4,Bc6,Ng3,Nbd7,f5,e5,h4,Nc5,Bd5,Nxd5,Nxd5,Bxd5,Qxd5,Bxg5,hxg5,Qb6,b3,Nxb3+,Kh2,Nxa1,Rxa1,Qc6,Qb3,Rac8,g6,Qc4,gxh7+,Kh8,Qf3,Qc3,Qh5,Qxa1,f6,gxf6,Qh6,Qd1,Nf5,Qg4', 'Qxf6+,Kxh7,Qh6+,Kg8,Ne7#', 'https://lichess.org/training/C2N7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C2Ovk', 'Rapid', 'lia777', 1956, 'Pplo', 1952, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,f3,d5,Bd3,d4,Ne2,Bc5,O-O,O-O,Kh1,Bb6,c3,c5,f4,Ng4,h3,Qh4,Qe1', 'Qxe1,Rxe1,Nf2+', 'https://lichess.org/training/C2Ovk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c2pKf', 'Rapid', 'emmerich1992', 2069, 'GustavoErnandes', 1995, 'e4,c5,Nc3,Nc6,f4,d6,Bb5,Bd7,Nf3,a6,Bxc6,Bxc6,d3,e6,O-O,Nf6,a4,Be7,Qe1,O-O,h3,Qc7,g4,b5,axb5,axb5,Rxa8,Rxa8,g5,Nd7,Qg3,b4,Ne2,d5,e5,c4,d4,Bb5,c3,Ra2,h4,b3,h5,Ba3,g6,Nf8,gxf7+,Qxf7,h6,g6,Ng5,Qe7,Rf2', 'Bxb2,Bxb2,Rxb2', 'https://lichess.org/training/c2pKf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c2Pnj', 'Rapid', 'Nitroglycerin_01', 1900, 'tomp1900', 1871, 'e4,e5,Nf3,Nc6,Bb5,Qf6,d3,a6,Ba4,Bc5,Be3,Bb4+,c3,Ba5,O-O,h5,Nbd2,Nge7,Bg5,Qg6,Bc2,f6,Be3,h4,h3,d5,exd5,Bxh3,g3,hxg3,d4,gxf2+,Kxf2,Qg2+,Ke1,Nb8,Rg1,e4,Rxg2,Bxg2,Ng1,Nxd5,Bxe4,Nxe3,Qa4+,Nc6,Bxg2,Nxg2+,Kf2,Nf4,Re1+,Kd8,Kg3,g5,b4,Bb6,Qb3,Kd7,Qf7+,Kc8,Qxf6', 'Nh5+,Kg2,Nxf6', 'https://lichess.org/training/c2Pnj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C2qW3', 'Rapid', 'g4lois', 1789, 'Posky1', 1992, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,e3,O-O,Bd3,b6,Nge2,h6,Bh4,Bb7,Nf4,c5,dxc5,bxc5,O-O,d4,exd4,Qxd4,Bg3,Nc6,Rb1,Rad8,Nb5,Qb4,a3,Qa5,Qc2,Ne5,Nc3,Nxd3,Nxd3,Ba6,Rfd1,c4,Ne5,Bd6,Nc6,Qb6,Nxd8,Rxd8,Bxd6,Rxd6,Rxd6,Qxd6,Rd1,Qc6,Rd8+,Ne8,Qe2,Kf8,h3,Bb7,f3', 'Qb6+,Qf2,Qxd8', 'https://lichess.org/training/C2qW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c2rCz', 'Rapid', 'ptitbab', 2076, 'Fibretech', 2289, 'e4,g6,d4,Bg7,Nf3,c5,d5,d6,c3,e6,dxe6,Bxe6,Ng5,Nf6,Nxe6,fxe6,Qb3,Qc8,Bc4,d5,exd5,exd5,Bxd5,Nxd5,Qxd5,Qc6,Qxc6+,Nxc6,O-O,O-O,Be3,b6,Nd2,Ne5,h3,Rad8,Nb3,Rd3,a4,Nc4,Bc1,Re8,a5,Re2,axb6,axb6,Ra6,Be5,Na1,Rd6,b4,Bxc3,bxc5,bxc5,Ra4,Nb6,Ra6,c4,Be3,Nc8,Ra8,Rc6,Rb1,Kf7,Rbb8', 'Re1+,Kh2,Be5+,g3,Bxb8', 'https://lichess.org/training/c2rCz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c2Yjn', 'Rapid', 'minimiseregret', 2284, 'brodski', 2103, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,c5,a3,Bxc3+,bxc3,b6,Bd3,Bb7,f3,d6,Ne2,e5,O-O,O-O,e4,Nc6,d5,Na5,f4,Nd7,Ng3,exf4,Bxf4,Ne5,Nf5,f6,Bxe5,dxe5,Qg4,g6,Rf3,Bc8,Qh4,gxf5,Rh3,Qe7,d6,Qf7,exf5,Bd7,Be4,Bc6,Re1,Rad8,Ree3,Kh8,Reg3,Rxd6,Rg6,Bxe4,Qxe4,Qxc4,Qe1,Qd5', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/c2Yjn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C30Dh', 'Rapid', 'morningsun', 1875, 'Kubanator', 1911, 'd4,f5,c4,Nf6,g3,g6,Bg2,Bg7,Nh3,O-O,Nf4,d6,O-O,e5,dxe5,dxe5,Qxd8,Rxd8,Nd5,Na6,Bg5,Kf7,b4,c6,Ndc3,Nxb4,a3,Nc2,Ra2,Nd4,e3,Ne6,Bxf6,Bxf6,Nd2,Nc5,Rb2,Be6,Nb3,Nd3,Rbb1,Bxc4,Na5,Ba6,Rfd1,e4,Ne2,Rab8,Nf4,Bc3,Nxd3,Bxa5,Nc5,Bd3,Rxb7+,Kg8,Rxb8,Rxb8,Nxd3,exd3,Rxd3,Rb1+,Bf1,Rb2,Bg2,Be1,Bxc6,Rxf2,Rd1,Re2,Bb5,Rxe3,Kf1,Ba5,a4,Re4,Kf2,a6,Bc6,Rc4', 'Bd5+,Kg7,Bxc4', 'https://lichess.org/training/C30Dh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c30H3', 'Rapid', 'layer4', 1685, 'anatroll', 1661, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Nbd2,Nd7,Nb3,c5,c3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Ne7,Be2,Qb6,Nh4,Rc8,O-O,O-O,Nxf5,Nxf5,g4,Nh6,h4,f6,Rac1,fxe5,Rxc8,Rxc8,dxe5,Nxe5,Qf4,Rf8,Qxe5,Rf6,g5,Rf5,Qb8+,Rf8,Qe5,Rf5,Qc3,Nf7,Bd3,Rf3,Qc8+,Nd8,Be2,Rh3,Bg4', 'Rg3+,Kh2,Rxg4', 'https://lichess.org/training/c30H3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c310t', 'Classical', 'tanilc', 1773, 'yunusc13', 1757, 'Nf3,c5,e4,Nc6,g3,e5,Bg2,Nf6,c4,d6,d3,g6,O-O,Bg7,Re1,O-O,Nc3,Bg4,b3,Nd4,Bb2,Ne8,h3,Bxf3,Bxf3,f5,Bg2,f4,Nd5,f3,Bh1,Ne2+,Kh2,Qg5,Rxe2,fxe2,Qxe2,Nf6,h4,Qg4', 'Nxf6+,Rxf6,Qxg4', 'https://lichess.org/training/c310t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C31IS', 'Rapid', 'Tucutac55', 1795, 'vandecarlos', 1936, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,Be7,e3,c6,Bd3,Nbd7,Nf3,O-O,Rc1,Re8,O-O,Ne4,Bf4,Ndf6,Ng5,Nxg5,Bxg5,Ne4,Bf4,Nxc3,Rxc3,Bf6,Bb1,g6,Re1,Bg7,e4,dxe4,Rce3,Bf5,Bxe4,Bxe4,Rxe4,Rxe4,Rxe4,Qd5,Qe2,Rf8,b3,f5,Re8,Qxd4', 'Qe6+,Kh8,Rxf8+,Bxf8,Be5+,Qxe5,Qxe5+', 'https://lichess.org/training/C31IS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c31NE', 'Rapid', 'Mazg', 1881, 'Crydokie', 1897, 'e3,c5,d4,cxd4,exd4,d5,Nf3,e6,Be3,Nc6,c3,Bd6,Nbd2,Nge7,Bb5,Ng6,Bxc6+,bxc6,O-O,O-O,Qc2,Rb8,a3,Ba6,Rfe1,Qc7,b4,e5,dxe5,Nxe5,Ng5,Bd3,Qa4,Ng4,Ngf3,Nxe3,Rxe3,Bg6,c4,Bf4,Ree1,Bxd2,Nxd2,d4,b5,c5,Nf3,Rbd8,Ne5,d3,Nc6,d2,Re7,Qd6,Rxa7,d1=Q+,Rxd1', 'Qxd1+,Qxd1,Rxd1#', 'https://lichess.org/training/c31NE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c328v', 'Rapid', 'ANNAGR1', 1797, 'sogor', 1846, 'd4,d5,Nf3,Nc6,e3,Bf5,c3,Bxb1,Rxb1,Nf6,Bd3,h6,Qe2,a6,O-O,Ne4,Nd2,Nd6,b4,e5,dxe5,Nxe5,Bc2,c6,c4,Ndxc4,Nxc4,Nxc4,Rd1,Bd6,Bb3,b5,Qg4,O-O,Bxc4,dxc4,a3,f5,Qg6,Bxh2+,Kxh2,Qxd1,Bb2,Qd7,Rd1,Qf7,Qxc6,Qh5+,Kg1,Qxd1+,Kh2,Rfd8,Qe6+,Kh8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/c328v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C32Cg', 'Classical', 'Petr37', 1953, 'lodt', 2113, 'e4,Nf6,e5,Nd5,Nf3,d6,d4,dxe5,dxe5,Nc6,Bb5,Bg4,h3,Bh5,Be3,Nxe3,Qxd8+,Rxd8,fxe3,e6,Nbd2,Bc5,Ke2,O-O,Bxc6,bxc6,Ne4,Bb6,c4,Bg6,Nfd2,a5,c5,Ba7,a3,Rd5,b4,Rfd8,Rhd1,Kf8,Nc3,Bd3+,Kf2,Bc2,Ke2,Bxd1+,Rxd1,Rd3,Ncb1,axb4,axb4,Ke7,Rc1,R3d5,Nf3,Rb8,Rc4,Bxc5,Rxc5', 'Rxc5,bxc5,Rxb1', 'https://lichess.org/training/C32Cg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c33qI', 'Rapid', 'woodchuck99', 2092, 'badige', 1850, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Nf3,Nbd7,b3,Bb4,Bd2,Qa5,Qc2,O-O,a3,Be7,Bd3,dxc4,bxc4,Qc7,O-O,c5,Rac1,a6,Qb3,cxd4,exd4,e5,Nd5,Qd6,Nxe7+,Qxe7,Bb4,Qe6,dxe5,Nxe5,Nxe5,Qxe5,Rce1,Qh5,Bxf8,Kxf8,Qb4+,Kg8,Qe7,Be6,Rxe6,fxe6,Qxb7,Rd8,Bb1,Rd1,Qf3,Ng4,h3', 'Rxf1+,Kxf1,Nh2+,Ke2,Nxf3', 'https://lichess.org/training/c33qI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C3Ano', 'Blitz', 'Helik_Tribuwan', 2132, 'Magune', 2174, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,Nf6,Nc3,d6,Nf3,Bg4,Be3,g6,Bc4,Bg7,h3,Bxf3,Qxf3,O-O,g4,Rc8,g5,Nxd4,Bxd4,Rxc4,gxf6,exf6,Bxa7,Re8,Be3,f5,exf5,Bxc3+,bxc3,Rxc3,f6,d5,Rd1,d4,Qf4,b5,Qxd4,Qc7,O-O,Rc4,Qd6,Qc8,Kg2,Qf5,Bd4,h5,Rfe1,Rf8,Bc5,Rxc5', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/C3Ano');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C3Baf', 'Blitz', 'ullknowmeoneday', 1728, 'Bentlarsensayshi', 1626, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,f3,a6,c4,d5,cxd5,exd5,e5,Nfd7,f4,Bc5,Nb3,Bb4+,Bd2,Bxd2+,N1xd2,b5,Be2,Bb7,O-O,O-O,Nd4,Nc6,N2b3,Nxd4,Nxd4,Qb6,Kh1,Rac8,Bg4,Rc7,Qd2,Bc8,Rac1,Nc5,Bf3,Be6,f5,Bc8,b4,Ne4,Qe3,Bb7,e6,Rxc1,Rxc1,fxe6,fxe6,Bc8,Bg4,Qc7,Rxc7', 'Rf1+,Qg1,Nf2#', 'https://lichess.org/training/C3Baf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3Bvk', 'Rapid', 'Kamal-Kant-Gandhi', 1856, 'helplessly', 1991, 'e4,g6,Nf3,Bg7,Bc4,e5,Nc3,Nf6,O-O,d6,Be2,O-O,d3,b6,Bg5,Nbd7,Nd5,Bb7,c4,c6,Nc3,Re8,Qc1,d5,cxd5,cxd5,exd5,Rc8,Qd2,Qc7,h3,Nxd5,Nxd5,Bxd5,a3,Qb7,Rac1,e4,dxe4,Bxe4,Rfe1,Rxc1,Rxc1,Ne5,Qf4,Nxf3+,Bxf3,Bxf3,Qxf3,Qxf3,gxf3,Bxb2,Rc7,Bxa3,Rxa7,Bc5,Kf1,Kg7,Rb7,h6,Bf4,g5,Bb8,Kg6,Ba7,Re6,Bb8,Kh5,Rxf7,Kh4,Kg2,Re2,Bg3+,Kh5,Rb7,Rb2,f4,gxf4,Bxf4,Rxf2+,Kg3,Rb2,Rh7,Bf2+,Kf3,Kg6,Rxh6+,Kf7,Rh7+,Kg8,Rb7,b5,Bg5,b4,h4,Be1,Ke4,Rc2,Kd3,Rc3+,Kd4,b3,Bf6,Rh3,Kc4,Rf3,Be7,Rc3+,Kb4', 'Rc7+,Kxb3,Rxb7+', 'https://lichess.org/training/c3Bvk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3geM', 'Rapid', 'kga1b007', 1698, 'Farouk544', 1647, 'e4,e5,Nf3,Nc6,Bb5,Qf6,d3,Bc5,O-O,Nge7,Nc3,a6,Bg5,Qe6,Bc4,Qg6,Bxe7,Nxe7,Nxe5,Qf6,Nxf7,O-O,e5,Qg6,Qf3,Rxf7,Bxf7+,Qxf7,Qxf7+,Kxf7,Ne4,Bd4,Ng5+,Kg8,c3,Bxe5,d4,Bf6,Ne4,d5,Nxf6+,gxf6,Rfe1,Kf7,Re3,Be6', 'Rae1,Nc6,Rxe6', 'https://lichess.org/training/c3geM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3gv8', 'Rapid', 'Sinchikov', 1738, 'adrian_bishop', 1836, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Qe2,d5,Bb3,Be6,d3,Nc5,Nxe5,Bd6,Bxd5,Bxd5', 'Nc6+,Ne6,Nxd8', 'https://lichess.org/training/c3gv8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3ijZ', 'Classical', 'Eni_Oro', 1919, 'krus01', 1930, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,d3,Nf6,Bg5,O-O,Nbd2,Bg4,h3,Bh5,c3,c5,Qe2,h6,Bh4,g5,Bg3,g4,hxg4,Bxg4,Qe3,Kh7,Nxe5,Bxe5,Bxe5,Bh5,Bxf6,Qxf6,Rfe1,Rg8,Qxc5,Rg5,Qxc7,Rag8,Qh2', 'Rxg2+,Qxg2,Rxg2+,Kxg2,Qg5+,Kf1,Qxd2', 'https://lichess.org/training/c3ijZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3iOi', 'Rapid', 'rozgic032', 1611, 'sun_kumar_e', 1652, 'd4,d5,c4,e6,Nc3,Nc6,e3,Nf6,Nf3,Be7,cxd5,exd5,Bd3,O-O,O-O,Bg4,h3,Bh5,a3,a6,Be2,Bd6,e4,dxe4,Nh2,Bxe2,Qxe2,Nxd4,Qd2,c5,Qg5,Qc7,Ng4,h6,Nxh6+,Kh7,Nf5,Ne6,Qh4+,Kg8,Nh6+,gxh6,Qxf6,Be5,Qxh6,Bg7,Qe3,f5,Nd5,Qe5,Nb6,Rad8,Nc4,Qd5,Nb6,Qc6,Nc4,Rd3,Qe2,Kf7,Qh5+,Ke7,Bg5+,Kd7,Rad1,Kc7,Be7,Re8,Rxd3,exd3,Bd6+,Kc8,Qxf5,b5,Na5,Qxd6,Qf7,Qd7,Qf3,Nc7', 'Qb7+,Kd8,Nc6+,Qxc6,Qxc6', 'https://lichess.org/training/c3iOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3LZ9', 'Rapid', 'AnarB1', 1991, 'NoInicio', 2001, 'e4,e5,f4,exf4,Nf3,Ne7,d4,Ng6,Nc3,c6,Bd3,Be7,Qe2,Bh4+,Kd1,O-O,Bd2,d5,e5,Bg4,h3,Bh5,Be1,Bxe1,Rxe1,Na6,Kd2,Nb4,a3,Nxd3,Qxd3,Re8,Rad1,a6,Kc1,Qd7,Kb1,Rab8,Na4,b5,Nc5,Qc8,Qe2,a5,e6,fxe6,Nxe6,Rxe6,Qxe6+,Qxe6,Rxe6,Rc8,Rde1,Kf8,Ne5,Nxe5,R1xe5,Bf7,Rf5,b4,a4,Rc7,b3,Kg8,Re2,Bg6,Rxf4,Rf7,Rxf7,Kxf7,Kc1,h6,g4,Be4,Rxe4', 'dxe4,Kd2,Ke6', 'https://lichess.org/training/c3LZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3noC', 'Classical', 'wqdeng', 1756, 'Queen-Daenerys', 1905, 'd4,d5,Bf4,e6,e3,Bd7,Bd3,Nc6,c3,h5,h3,a6,Qb3,b5,Nd2,Nf6,Ngf3,Bc8,Ne5,Bb7,Bxb5,axb5,Qxb5,Rb8,Nxc6,Qd7,Nb3', 'Qxc6,Qxc6+,Bxc6', 'https://lichess.org/training/c3noC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3OP5', 'Classical', 'RezaSha', 2044, 'EMHP', 1883, 'e4,c6,d4,d5,e5,c5,dxc5,Nc6,Nf3,Bg4,Bb5,e6,Bxc6+,bxc6,c4,Qa5+,Bd2,Qxc5,cxd5,cxd5,O-O,Ne7', 'Qa4+,Qc6,Qxg4', 'https://lichess.org/training/c3OP5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C3otG', 'Rapid', 'zasfet', 1711, 'masnowar', 1928, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,h6,e3,Bb4,Bd2,Bxc3,Bxc3,O-O,Be2,Nc6,O-O,Ne7,Bd3,Ng6,Bc2,c6,b3,a5,c5,Ne4,Bb2,b5,Bxe4,dxe4,Ne5,Nxe5,dxe5,Qe7,Qd6,Qe8,f4,exf3,Rxf3,Bb7,Qd4,Rd8,Qg4,Qe7,Bd4,b4,Raf1,Ba6,Rg3,g5,Rf6,Kg7,Qh5,Rh8,h4,Bd3,hxg5,Bg6,Qh4,h5,Rgf3,Qd7,Qf2,Rdf8,R3f4,Qd5,e4,Qd7,Kf1,h4,Rxh4,Rxh4,Qxh4,Rh8,Qf4,Qxd4,Rxg6+,Kxg6,Qf6+,Kh5,Qxh8+,Kxg5,Qf6+,Kg4,Qf3+,Kg5,Qg3+,Kh5,Qf3+,Kg5,g3,Qxe5,Qe3+,Kg4,Kg2,Qb2+,Qf2,Qxf2+,Kxf2,e5,Kg2,f5', 'exf5,Kxf5,Kf3,e4+,Ke3,Ke5,g4', 'https://lichess.org/training/C3otG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3OxT', 'Rapid', 'marcolino1', 2171, 'chessjedi', 1970, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Bg4,Bf4,Be7,Qd2,O-O,O-O-O,Nc6,h3,Bxf3,gxf3,Ne5,Be2,Ng6,Be3,Re8,f4,Bf6,Rhg1,Qd7,Kb1,Qe6,Bd3,Nh4,Rg4,Nf5,Re1,Qd7,Reg1,Re7,Bxf5,Qxf5,Qd3,Qh5,f5,Qxh3,Qd5,Rae8,a3,b6,Rxg7+,Bxg7,f6,Re5', 'Rxg7+,Kh8,Qxf7', 'https://lichess.org/training/c3OxT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3qdQ', 'Rapid', 'jony-1', 1756, 'gerry25', 1677, 'e4,e6,d3,d5,f3,Nf6,Be3,dxe4,fxe4,Nc6,Be2,e5,Nc3,Nd4,Bxd4,exd4,Nb5,Bb4+,c3,dxc3,bxc3,Be7,Nf3,a6,Qa4,Bd7,Nxc7+,Qxc7,Qb3,h6,O-O,O-O,Nh4,Be6,Qc2,Nxe4,dxe4,Bxh4,Rfb1,b5,Bf3,Bf6,e5,Bxe5,Bxa8,Rxa8,g3,Bd4+,Kf1,Bc4+,Ke1,Re8+,Kd1,Bxc3,Qxc3,Be2+,Kc2,Qb7,Re1,Rc8,Qxc8+,Qxc8+,Kd2,Bc4,Rac1,Qh3,Re2,Bxa2,Re8+,Kh7,Re2,Bc4,Rf2,a5,Rc2,a4,Kc3,Qe6,Kb4,Qd6+,Kc3,b4+,Kxc4,a3,Kb3,Qd5+,Rc4,Qb5,Rxb4,Qd5+,Kxa3,Qd3+,Rb3,Qd6+,Ka2,Qa6+,Kb1,Qg6+,Rc2,f5,Rbc3,Qg4,Rc4,Qd1+,Kb2,Qh1,R4c3,h5,Kb3,Kh6,Rc6+,g6,R6c3,Qd5+,Kb2,Qe5,Kb3,Qf6,Kb2,h4,gxh4,Qxh4,Kb3,Qf6,Rc4,f4,Kb4,Qd6+,Kb3,f3,Rh4+,Kg7,Rhc4,g5', 'Rc7+,Kg8,Rc8+,Kf7,R2c7+,Ke6,Rc6,Qxc6,Rxc6+', 'https://lichess.org/training/c3qdQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C3qMZ', 'Blitz', 'IM ich2', 2501, 'Fed67', 2414, 'd4,Nf6,c4,d6,Nf3,Nbd7,Nc3,e5,Bg5,Be7,e3,c6,Bd3,Qc7,Qc2,Nf8,h3,a6,O-O,Ng6,b4,O-O,a3,Re8,Rac1,Bd7,Rfd1,Rad8,c5,exd4,cxd6,Qxd6,Nxd4,Qb8,Nf5,Bxf5,Bxf5,Rxd1+,Rxd1,Rd8,Bxg6,hxg6,Bxf6,Bxf6,Ne4,Qc7,g4,Be7,Kg2,Rxd1,Qxd1,Qe5,Qd3,a5,bxa5,Qxa5,Qd7,Bxa3,Qxb7,Qd5,f3,Bf8,h4,f6,Qb2,c5,Qc3,Be7,Nd2,Kf7,Nc4,Bd6,e4,Qd4', 'Qxd4,cxd4,Nxd6+', 'https://lichess.org/training/C3qMZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C3s5c', 'Classical', 'Dreala', 1608, 'DigJer', 1621, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Nxe7,Qxe7,Bd3,h6,Bh4,Bb7,Nb1,Nb4,Nc3,Qe6,a3,Nxd3+,cxd3,d5,Bxf6,Qxf6,exd5,O-O,O-O,Rfd8,Ne4,Qg6,Qf3,Rxd5,Rfd1,Rad8,Rd2,f5,Qg3,Qxg3,Nxg3,f4,Ne4,Rxd3', 'Rxd3,Rxd3,Nc5,Rd2,Nxb7', 'https://lichess.org/training/C3s5c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3ukx', 'Classical', 'Violin_And_Viola', 2083, 'GeorgeWBush', 2177, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,c6,Be2,Bf5,Nh4,Bg6,g3,e6,Nxg6,hxg6,Bf4,Qd8,Qd3,Bd6,Bg5,Nbd7,Bf3,Qa5,Bd2,Bb4,O-O,O-O,a3,Be7,Nd5,Qd8,Nxe7+,Qxe7,Bb4,c5,dxc5,Nxc5,Qe3,Rac8,Rad1,b6,Rd4,a5,Bc3,Rfd8,Rh4,Nd5,Bxd5,Rxd5,Rh8+,Kxh8', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/c3ukx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C3WAN', 'Rapid', 'HarrierDuBois', 1872, 'traumaticalfonso', 1961, 'd4,c5,c3,cxd4,cxd4,d5,Bf4,Nf6,Nf3,e6,e3,Bb4+,Nc3,Ne4,Qc2,Qa5,Rc1,Nxc3,bxc3,Ba3,Rb1,Nc6,Bd3,h6,O-O,O-O,Rb3,Be7,Rfb1,Qd8,c4,Na5,Rb5,Nxc4,Bxc4,dxc4,Bxh6,gxh6,Rh5,f5,Rxh6,Bg5', 'Rg6+,Kh7,Rxg5', 'https://lichess.org/training/C3WAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3wKH', 'Rapid', 'lucktbd', 1819, 'Blickopa', 1787, 'e4,c5,Nc3,Nc6,Bc4,e6,f4,Nge7,Nf3,d5,exd5,exd5,Bb5,a6,Bxc6+,Nxc6,O-O,Be7,d3,O-O,Qe1,b5,Qg3,d4,Ne4,Bf5,Nf2,Nb4,c3,dxc3,bxc3,Nxd3,Nxd3,Qxd3,Bb2,c4,Rad1,Bc5+,Kh1,Qe4,Ne5,Rfd8,Rxd8+,Rxd8,Qh4,f6,Ng4,Qxf4', 'Nxf6+,gxf6,Qxf4', 'https://lichess.org/training/c3wKH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C3xeA', 'Rapid', 'marceloarc', 1782, 'itsmepeter', 1758, 'e4,c5,f4,d6,Nf3,Nc6,Bc4,Nf6,Ng5,e6,O-O,d5,exd5,exd5,Bb5,Qb6,Re1+,Be7,Qe2', 'c4+,Kh1,Qxb5', 'https://lichess.org/training/C3xeA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C3XOj', 'Rapid', 'Toprakhs', 1717, 'Chessmaster1905', 1667, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Be3,a6,Nf3,c5,Qd2,Nc6,a3,cxd4,Bxd4,Nxd4,Qxd4,Bc5,Qg4,O-O,Bd3,Qb6,O-O,f5,Qh3,Qc7', 'Ng5,h6,Nxe6', 'https://lichess.org/training/C3XOj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C3Xtk', 'Rapid', 'EmAx07', 2026, 'mixmoksik', 2092, 'e4,c5,Nf3,d6,d3,Nc6,g3,e6,Bg2,g6,O-O,Bg7,Nbd2,Nge7,Re1,O-O,c3,Qc7,Nf1,d5,e5,Nxe5,Bf4,Nxf3+,Qxf3,e5,Bg5,f6,Bd2,b5,d4,e4,Qe2,c4,Bf4,Qa5,Bd6,Re8,f3,f5,g4,Nc6,fxe4,fxe4,Ne3,Be6,g5,b4,Ng4,bxc3,bxc3,Qxc3,Nf6+,Bxf6,gxf6,Qxd4+,Kh1,Qxf6,Rf1,Qd8,Ba3,Qd7,Qe3,Bf5,Rad1,Qe6,Bb2,Ne5,Qh6,Rac8,Bc3,Qe7,Rxd5,Rcd8', 'Rxe5,Qxe5,Bxe5', 'https://lichess.org/training/C3Xtk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C3yQ7', 'Blitz', 'FM thestench', 2243, 'Snehapala', 2012, 'd4,d5,Bg5,Bf5,e3,Nd7,Nf3,Ngf6,Bd3,e6,Bxf5,exf5,Nbd2,Be7,c4,c6,Qc2,Ne4,Bxe7,Qxe7,cxd5,cxd5,O-O,O-O,Rac1,Rac8,Qb3,Nb6,a4,Rfd8,a5,Rxc1,Rxc1,Na8,g3,b6,Nxe4,fxe4,Ne5,Qe8,axb6,Nxb6,Rc7,f6,Nc6,Rc8,Rxc8,Qxc8,Nxa7,Qa6,Nc6,Kf7,Qb4,Nc4,Qe7+,Kg6,Nd8,Qa1+,Kg2,Qxb2,Qf7+,Kh6,Ne6,Nxe3+,Kh3,Nf5,g4,Qxf2', 'Qh5#', 'https://lichess.org/training/C3yQ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c3zpT', 'Rapid', 'Unknown-9', 1989, 'gfgfcgvnbhvcxfhnd', 2096, 'e4,c5,Nf3,e6,e5,d5,Bb5+,Bd7,c4,d4,d3,Bxb5,cxb5,Qa5+,Bd2,Qxb5,O-O,Ne7,a4,Qxb2,Na3,Qb6,Nc4,Qc7,Nd6+,Kd7,Rb1,b6,a5,Nd5,h3,Bxd6,exd6,Qxd6,Re1,Nc6,Qa4,Ke7,a6,Rhe8,g3,Kf8,Bf4,Nxf4,gxf4,Rac8,Ne5,Nxe5,fxe5,Qc6,Qxc6,Rxc6,f4,c4,Rb4,Rec8,Kf2,b5,Ra1,Rb6,Ke2,Ke8,Ra5,c3,Kd1,Rd8,Rbxb5,Rxb5,Rxb5,Ke7,Kc2,Rd7,Rb8,f6,exf6+,Kxf6,Rb7,Ke7,Rb8,Kd6,Rh8,g6,Rb8,Rc7,Rb4,Rc6,Rxd4+,Ke7,Ra4,Kf6,Ra5,h6,Kc1,c2,Ra2,Rc3,Rb2,Rc7,Rxc2', 'Rxc2+,Kxc2,Kf5', 'https://lichess.org/training/c3zpT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C41mY', 'Rapid', 'Zimerman96', 1848, 'dnr1997', 1917, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,Re1,Bg4,c3,Be7,h3,Be6,d4,b5,Bc2,exd4,cxd4,Nb4,d5,Bd7,Bb3,a5,a3,Na6,Qd3,Nc5,Qc2,Nxb3,Qxb3,a4,Qb4,O-O,Nc3,Qb8,Be3,c5,dxc6,Bxc6,Bg5,Re8,Bxf6,Bxf6,Rad1,Bxc3,bxc3,Bxe4', 'Rxe4,Rxe4,Qxe4', 'https://lichess.org/training/C41mY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c47VF', 'Rapid', 'canbe90', 1845, 'petrovich6112', 1866, 'd4,e6,c4,d6,e4,Ne7,Nc3,Ng6,Nf3,c6,Bd3,e5,h4,Be7,h5,Nf4,Bxf4,exf4,Qd2,Bg5,g3,Bg4,Nxg5,Qxg5,gxf4,Qh6,Be2,Bxe2,Nxe2,O-O,O-O-O,Qf6,Rdg1,Na6,h6,g6,f5,c5,d5,Rae8,Ng3,Kh8,a3,b6,Rd1,Nb8,Qf4,Nd7,Ne2,Ne5,Nc3,a6,Qe3,Nxc4,Qe2,b5,f4,Nb6,Rde1,Qd8,Qd2,b4,axb4,cxb4,Na2,a5,Qd4+,f6,e5,Qc7+,Kb1,fxe5,fxe5,dxe5,Rxe5,Rxe5,Rc1,Qd6,Rc6,Qxd5,Qxb6,Qd3+,Ka1,Re1+,Nc1,Qxf5,Qd4+,Re5,Qa7,Rg8,Rc7,g5,Rg7,Rc5', 'Rxg8+,Kxg8,Qg7#', 'https://lichess.org/training/c47VF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C4bH2', 'Rapid', 'Supercerebraco', 1919, 'seben14', 1930, 'e4,d5,exd5,c6,dxc6,e5,cxb7,Bxb7,Qg4,Nf6,Qg3,Nc6,Bb5,Qd5,Nf3,Qxb5,Nc3,Qc5,O-O,O-O-O,Re1,Bd6,Qxg7,Nh5,Qg4+,f5,Qxf5+,Kb8,Qxh5,Rdf8,Ne4,Qd5,Nxd6,Qxd6,c3,Rhg8,Nxe5,Rxg2+,Kxg2,Nxe5+,Kf1,Ba6+,Re2,Nf3,d4,Nxh2+,Ke1,Nf3+,Kd1,Bxe2+,Kxe2,Qe6+,Be3,Qc4+,Kd1,Qf1+,Kc2,Qxa1', 'Qb5+,Kc7,Qc5+,Kd7,Qxf8', 'https://lichess.org/training/C4bH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C4DkX', 'Rapid', 'sigiar', 1918, 'sisco', 1815, 'e4,e5,Bc4,Nf6,Nf3,Bc5,Nxe5,d5,exd5,Nxd5,Qe2,O-O,O-O,Nf4,Qe4,Qg5,d4,Qxg2+,Qxg2,Nxg2,Kxg2,Bxd4,Nf3,Bf6,c3,Nc6,Bg5,Ne5,Nxe5,Bxe5,f4,Bd6,Nd2,h6,Bh4,Bf5,Bd5,a5,Ne4,Bxe4+,Bxe4,Rae8,Bxb7,Rb8,Bd5,Rxb2+,Rf2,Rb5,c4,Rb4,Bg3,c6,Bxc6,Rxc4,Bd5,Rc5,Rd1,Bb8,f5,Ba7,Bd6,Rcc8,Bxf8,Bxf2,Kxf2,Kxf8,Bb3,Rc7,Rd8+,Ke7,Rg8,Kf6,Ra8,Rc5,Rf8,Rxf5+,Kg3,Ke7,Kg4', 'Rg5+,Kf4,Kxf8', 'https://lichess.org/training/C4DkX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C4GP2', 'Classical', 'Scithiryx', 1661, 'tman2nd', 1718, 'e4,d5,Nf3,dxe4,Ne5,f6,Nf7,Kxf7,d3,exd3,Bxd3,g6,Bc4+,Ke8,Bb5+,Bd7,Bc4,b5,Bd5,Bc6', 'Bf7+,Kxf7,Qxd8', 'https://lichess.org/training/C4GP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c4Ht2', 'Rapid', 'Ibraimo', 1939, 'Valnir10', 1812, 'd4,d5,c4,e6,Nc3,Nf6,e3,Be7,Nf3,O-O,c5,b6,b4,Ba6,b5,Bb7,c6,Bc8,Bd3,a6,Ne5,axb5,Nxb5,Ne4,O-O,Nd6,Qc2,h6,a4,f6,Ng6,Re8,Ba3,Bf8,Nxf8,Nxb5,Bxb5,Rxf8,Bxf8,Qxf8,e4,Qd6,exd5,Qxd5,Rad1,Ba6,Qb2,Nxc6,Bxc6,Qxc6,Rc1,Qxa4,Rfe1,Qd7,Qa2,Kf7,d5,Qxd5,Rxc7+,Kg6,Qc2+,Bd3,Qc3,b5,h3,Bc4,Qg3+,Qg5,Qf3,Bd5,Qd3+,f5,f3,Rb8,Qd4,Qf6,Qa7,Ra8,Qb6,Bc4', 'Rxc4,bxc4,Rxe6', 'https://lichess.org/training/c4Ht2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C4IJw', 'Classical', 'Hafez7637', 1696, 'Giuseppe_Zin', 1721, 'e4,e6,Nf3,c6,Bc4,a6,Nc3,Nf6,d4,b5,Bb3,b4,e5,bxc3,exf6,Qxf6,bxc3,Qg6,O-O,Bd6,Ne5,Qf6,c4,Bxe5,dxe5,Qxe5,Be3,O-O,Qg4,Qf5,Qg3,d5,cxd5,cxd5,Bh6,Qf6,Bg5,Qg6,Qe3,Nd7,Be7,Re8,Ba3,Bb7,Ba4,d4,Qh3,Bc8,Bc6,Rb8,Bd6,Rb2,Qh4,Rxc2', 'Be4,f5,Bxc2', 'https://lichess.org/training/C4IJw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C4JhZ', 'Blitz', 'elking68', 1984, 'Enterrador', 2052, 'd4,c6,c4,d5,e3,Nf6,a3,Bg4,Qb3,Qb6,Qxb6,axb6,cxd5,Nxd5,Nc3,e6,Nxd5,exd5,Be2,Bf5,Nf3,Na6,Bd2,Nb4,Bxb4,Bxb4+,Kd1,f6,Ne1,O-O,Nc2,Bd6,Kd2,b5,Bd3,Be6,g3,Ra7,Rhe1,Rfa8,e4,g6,e5,fxe5,dxe5,Bc5,f4,Bb6,Rf1,Ba5+,b4,Bd8,f5,Bg5+,Kc3,gxf5,Bxf5,Bxf5,Rxf5,Be7,Raf1,b6,R5f3,c5,Kb3,c4+,Kc3,Rd8,Kd4,Rf8,Rxf8+,Bxf8,Rf6,Rf7,Rxb6,Rf2,Ne3', 'Rd2+,Kc3,Rd3+,Kc2,Rxe3', 'https://lichess.org/training/C4JhZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c4Lwh', 'Classical', 'Muratyukse', 1773, 'allasobar', 1920, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Ba4,b6,Nxe5,Qg5,Nf3', 'Qxg2,Nxd4,Qxh1+', 'https://lichess.org/training/c4Lwh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C4N5t', 'Rapid', 'spike7s', 1701, 'tuborg', 1673, 'e4,c5,Nf3,e6,d4,a6,d5,b5,Qe2,Bb7,g3,c4,Bh3,g6,b3,Bg7,c3,Qc8,b4,a5,Bb2,Ne7,d6,Nec6,Na3,Ba6,Bg2,Ne5,Nxe5,Bxe5,Rd1,Qc6,f4,axb4,cxb4,Bxb2,Qxb2,O-O', 'e5,Qb6,Bxa8', 'https://lichess.org/training/C4N5t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c4nfl', 'Rapid', 'lmc2000', 1927, 'CSpaete', 1529, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe3,Nf6,Bc4,d6,O-O,Be7,b3,O-O,Bb2,Re8,Nd2,Ng4,Qg3,Bg5,h3,Ne5,Nf3,Nxc4,bxc4,Bf6,Bxf6,Qxf6,Rfe1,Rxe4', 'Rxe4,Qxa1+,Re1,Qxe1+,Nxe1', 'https://lichess.org/training/c4nfl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c4Pr9', 'Blitz', 'Tanjay', 1968, 'Jaimeesmaricon', 2076, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,d3,Bg4,Be3,Nf6,Bxc5,dxc5,h3,Bh5,c3,Qe7,Nbd2,O-O-O,Qb3,Na5,Qc2,Nxc4,dxc4,g5,Nxg5,Rdg8,Ngf3,Qe6,Kh2,Bxf3,Nxf3,Qxc4,b3,Qe6,Rad1,Nh5,Nh4,Rg5,Nf5,Rhg8,g4,Nf4,Rd2,b6,Rfd1,Kb7,b4,c4,a4,Nxh3,Kxh3,Rxg4,f3,Qg6,fxg4', 'Qxg4+,Kh2,Qh5+,Nh4,Qxh4#', 'https://lichess.org/training/c4Pr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c4pYt', 'Blitz', 'avinashsp93', 1755, 'vazquez90', 1755, 'f4,d5,e3,c5,Nf3,Nc6,Be2,f6,O-O,e6,c3,Bd6,d4,Nge7,Nbd2,O-O,dxc5,Bxc5,Nb3,Bb6,Nbd4,Nxd4,cxd4,Nf5,Bd3,Nh6,b3,f5,Ba3,Rf7,Rc1,Rf6,Ne5,Bc7,Qc2,Bxe5,dxe5,Rg6,Bd6,Ng4,Rf3,Bd7,h3,Nh6,Qc7,Bc6,Qxd8+,Rxd8,Rf2,Nf7,b4,Nxd6,exd6,Rxd6,b5,Bd7,Rc7,a6,Rxb7,axb5,Bxb5,Bxb5,Rxb5,Ra6,Rfb2,Kf7,Rb6,e5,Rb7+,Kf6,fxe5+,Kxe5,Re7+,Kd6,Rf7,Ke6,Rfb7,Rc6,a4,Rc1+,Kh2,Ra1', 'R2b6+,Ke5,Re7+,Re6,Rbxe6#', 'https://lichess.org/training/c4pYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c4rhO', 'Rapid', 'chwilliams1', 1864, 'CarlosMagnussen', 1776, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd5,Nf6,Qd3,Ne5,Qe3,Neg4,Qf3,Ne5,Qg3,Neg4,e5,Bc5,Be3,Bxe3,exf6', 'Bxf2+,Qxf2,Nxf2', 'https://lichess.org/training/c4rhO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c4RYa', 'Rapid', 'Wingzleo', 1936, 'VerasCardoso', 1930, 'e4,e5,Nc3,d6,Bc4,Be7,Nge2,Nf6,d4,exd4,Nxd4,O-O,O-O,Bd7,Nf5,Nc6,f4,Na5,Bb3,Nxb3,axb3,Bxf5,exf5,b6,Kh1,d5,g4,d4,Nb5,a6,Nxd4,Bc5,c3,Qd5+,Qf3,Qxf3+,Rxf3,Nxg4,Kg2,Bxd4,cxd4,a5,Bd2,Rfe8,Bc3,Re2+,Kg3,Nh6,Rg1,Nxf5+,Kg4,g6,Kg5,Rxh2,Kf6,Re8,d5,Rh5,Re1,Nd6,Rxe8+,Nxe8+,Ke7,Nd6,Kd7,Nb5,Kc6,Na7+,Kxc7,Rxd5,Kxb6,Nc8+,Kc7,Ne7,Bf6,Nf5,Kc6,Rd6+,Kb5,Rxf6,Kxa5,Nd4,Rd3,Rxf4,b4,Kg7,b5,Nxb5,Kxb5,h5,Kc5,Rf1,b4,Rb1,b5,h4,b6,Rc1+,Kb5,Rb1+,Kc6,Kh6,b7,Kh5', 'Rd5+,f5,Rb5,Rxb5,Kxb5', 'https://lichess.org/training/c4RYa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c4sEQ', 'Rapid', 'AndriiYevchenko', 1840, 'Highlander-888', 1828, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,d5,exd5,Nxd5,Re1,f6,d4,Bg4,dxe5,Nde7,Qe2,Nxe5,Nxe5,Bxe2', 'Bf7#', 'https://lichess.org/training/c4sEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c4t0x', 'Rapid', 'gusbadilla', 1729, 'ArthurAH21', 1726, 'b4,c6,Bb2,d5,e3,Nf6,Nf3,Nbd7,Be2,c5,a3,e6,bxc5,Bxc5,d4,Bb6,O-O,Ne4,Nbd2,Qf6,Nxe4,dxe4,Ne5,Nxe5,dxe5,Qd8,Bb5+,Ke7,Qd6+,Qxd6,exd6+,Kxd6,Rad1+,Ke7,Bxg7,Rg8,Bd4,Bxd4,Rxd4,a6,Ba4,b5,Bb3,Bb7,Rfd1,Rad8,Rxd8,Rxd8,Rxd8,Kxd8,a4,b4,Kf1,Ke7,Ke2,Kd6,f3,exf3+,gxf3,Ke5,f4+,Kf5,Kd2,Be4,c3,bxc3+,Kxc3,Kg4,Bc4,a5,Bf1,Kf3,Kd4,Kf2,Kxe4,Kxf1,h4,Kg2,f5,Kg3,fxe6,fxe6,h5,Kg4,Ke5,Kxh5,Kxe6,Kg5,e4,h5,e5,h4,Kf7,h3,e6,h2,e7,h1=Q,e8=Q,Qf3+,Kg8,Qb3+,Kf8,Kf6,Qe7+,Kg6,Qg7+,Kf5,Qd7+,Qe6,Qb5+,Qe5,Qf1+,Ke6,Qh3+,Qf5+,Qxf5+,Kxf5,Ke7,Ke5,Kd7,Kd5,Kc7', 'Kc5,Kd7,Kb4,Kd6,Kxa4', 'https://lichess.org/training/c4t0x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C4taF', 'Blitz', 'gfif500', 1694, 'bub08', 1713, 'e4,e5,Bc4,Be7,c3,d6,d4,Nc6,Qf3,Nf6,h3,exd4,cxd4,Nxd4,Qd1,Nc6,Nc3,O-O,Be3,Be6,Bxe6,fxe6,Nge2,d5,exd5,Nxd5,Nxd5,Qxd5,O-O,Rfd8,Qc2,Qf5,Qb3,Rab8,Ng3,Qd5,Rfd1,Qxb3,axb3,a6,Ne4,Bf6,Rdb1,Nd4,Nxf6+,gxf6,Rd1,Nxb3,Rab1,Kf7,Rf1,e5,f4,e4,Rbe1,f5,g4,Kf6,Rf2,Na5,Rfe2,Nc4,gxf5,Kxf5,Bf2,Re8,b3,Nd6,Kh2,Kxf4,Bg3+,Kf5,Rf1+,Kg6,Ref2,e3,Rf6+,Kg5,h4+,Kh5,Bxd6,cxd6,R1f5+,Kg4,Rf4+,Kh5,R6f5+,Kg6', 'Rg5+,Kh6,Rf6#', 'https://lichess.org/training/C4taF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c4Zy1', 'Rapid', 'Spatok', 2191, 'pablo_cano', 2259, 'e4,e6,d4,d5,Nd2,h6,Ngf3,Nf6,e5,Nfd7,c3,c5,Bd3,cxd4,cxd4,Nc6,O-O,g5,Nb3,a5,a4,Nb4,Bb5,Be7,Ne1,h5,f4,Qb6,Kh1,g4,f5,g3,fxe6,fxe6,Be2,h4,Bh5+,Kd8,Qg4,gxh2,Kxh2,Kc7,Bd2,Kb8,Bf7,Nc6,Bxe6,Ndxe5,dxe5,Bxe6,Qxe6,Qxb3,Rf7', 'Qg3+,Kg1,Bc5+', 'https://lichess.org/training/c4Zy1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C51TQ', 'Rapid', 'GrdoviciArilje', 1961, 'Chris200758', 1843, 'f4,e5,fxe5,d6,Nf3,Bg4,exd6,Bxd6,g3,Nc6,Bg2,Nf6,d3,Qe7,Bg5,h6,Bxf6,Qxf6,c3,O-O,O-O,Qe7,Qd2,Ne5,Nxe5,Qxe5,Bxb7,Qxe2,Qxe2,Bxe2,Re1,Rae8,Be4,Bc5+,Kg2,Bg4,Nd2,Kh8,d4,Bd6,h3,Bd7,Nf3,f5,Bd5,g5,c4,c6,c5,Bc7,Bc4,g4,hxg4,fxg4,Ne5,Bxe5,dxe5,Rf3,e6,Bc8,Rad1,Kg7,Rd6,h5,Rxc6,Bb7,Rc7+,Rf7+,c6', 'Rxc7,cxb7,Rxc4', 'https://lichess.org/training/C51TQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c52i5', 'Rapid', 'konrad149', 2210, 'Naderrahmati', 2225, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,Nf6,Bg2,dxe4,dxe4,e5,O-O,Be7,Nc4,Qc7,c3,O-O,Qc2,b6,Bg5,Ba6,Bxf6,Bxf6,b3,b5,Ne3,b4,Nd5,Qd6,Rfd1,bxc3,Qxc3,Nd4,Bf1,Bxf1,Kxf1,Rac8,Rac1,Qa6+,Qc4', 'Qxc4+,Rxc4,Nxf3', 'https://lichess.org/training/c52i5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C55K4', 'Rapid', 'Lucasedrich', 2053, 'Juancho_16', 2031, 'e4,c5,Nf3,e6,d4,d5,dxc5,Bxc5,exd5,exd5,Bb5+,Nc6,O-O,Ne7,Bg5,f6,Bf4,O-O,Nc3,Qb6,Bd3,a6,Na4,Qa7,Nxc5,Qxc5,c3,Bg4,Be3,Qd6,Be2,f5,Nd4,Nxd4,Bxg4,fxg4,Bxd4,Qd7,Qd2,Rae8,Qg5,Ng6,Rad1,Rf5,Qxg4,Ref8,Rd3', 'Rxf2,Rxf2,Qxg4', 'https://lichess.org/training/C55K4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c57Ae', 'Rapid', 'Uran_238', 1687, 'krzyso', 1765, 'e4,c5,Nf3,g6,Nc3,Bg7,Bc4,e6,e5,Nc6,d4,cxd4,Nxd4,Nxe5,Bb3,Ne7,O-O,O-O,Bf4,d5,Re1,N7c6,Bxe5,Bxe5', 'Nxc6,bxc6,Rxe5', 'https://lichess.org/training/c57Ae');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c57Fe', 'Rapid', 'Aquiles_Molero', 1685, 'Articulador', 1701, 'e4,d5,e5,d4,Nf3,Bg4,h3,Bxf3,Qxf3,Nc6,Bb5,Qd7,Bxc6,bxc6,d3,e6,O-O,Bc5,Bg5,Ne7,Nd2,h6,Bxe7,Bxe7,Nb3,O-O,Qe4,c5,f4,f6,exf6,Rxf6,Rae1,Raf8,f5,e5,Qxe5,Bd6,Qd5+,Kh7,Nxc5', 'Bh2+,Kxh2,Qxd5', 'https://lichess.org/training/c57Fe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c5C9J', 'Blitz', 'NowStillTheory', 1762, 'The_o_rem', 1640, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,a6,Ba4,b5,Bc2,Bb7,d4,exd4,cxd4,Bb6,Bg5,O-O,Nc3,f6,Bh4,Ng6,Bg3,b4,Nd5,Nce7,Nxb4,d5,exd5,Nxd5,Bb3,Kh8,Nd3,Nde7,Nf4,Nxf4,Bxf4,Ng6,Bg3,f5,Ne5,f4,Nxg6+,hxg6,Qg4,fxg3', 'Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/c5C9J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c5CsH', 'Rapid', 'Traiano38', 2002, 'sabarizbruce', 1918, 'c4,c5,Nc3,e6,Nf3,Nc6,g3,Nf6,Bg2,Be7,O-O,O-O,e3,d5,cxd5,exd5,d4,Be6,a3,h6,Re1,Rc8,dxc5,Bxc5,b4,Bb6,Bb2,a6,Rc1,Qd6,Na4,Ba7,Bxf6,gxf6,Nc5,Bxc5,bxc5,Qe7,Nh4,Rfd8,Qh5,Qf8,Bf1,Ne5,f4', 'Bg4,Qxg4+,Nxg4', 'https://lichess.org/training/c5CsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C5CZs', 'Rapid', 'Wombelspeck', 1890, 'jbell87', 1648, 'd4,d5,e4,Nf6,Nc3,Nc6,Be3,dxe4,f3,exf3,Nxf3,Bg4,h3,Bh5,g4,Bg6,Bc4,e6,a3,Bd6,Qe2,Ne4,Nxe4,Bxe4,O-O-O,Qe7,c3,Bxa3,bxa3,Qxa3+,Qb2', 'Qxb2+,Kxb2,Bxf3', 'https://lichess.org/training/C5CZs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c5eyE', 'Rapid', 'trickynick', 1731, 'andreinik333', 1648, 'e4,c5,c3,a6,d4,e6,Nf3,b5,Be2,c4,Bf4,Bb7,Nbd2,h6,O-O,Nf6,Bxb8,Qxb8,e5,Nd5,Qc2,Be7,b3,Qd8,bxc4,bxc4,Rab1,Qc7,Nxc4,Nf4,Rfe1,Nxe2+,Qxe2,Bd5,Nfd2,O-O,Qe3', 'Bxc4,Nxc4,Qxc4', 'https://lichess.org/training/c5eyE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C5f2o', 'Rapid', 'sudonimh', 1867, 'Nighthawking', 1830, 'd4,e6,Bf4,d5,Nf3,c5,e3,Nc6,c3,Nge7,Bd3,Qb6,Na3,Qxb2,Nb5,a6,Nc7+,Kd7,Qb1,Qxc3+,Nd2,Rb8,dxc5,Ng6,Nxd5,exd5,Bxb8,Nxb8,O-O,Bxc5,Rc1,Qxd2,Rxc5,Kd6,Qb6+,Nc6,Bxa6,Qb4', 'Rxc6+,bxc6,Qxb4+', 'https://lichess.org/training/C5f2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c5f9E', 'Rapid', 'M_pRys', 1683, 'Diyaa84', 1691, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Be6,Re1,Bd6,b3,O-O,Bb2,f6,Nc3,Be7,d4,Nxc3', 'Bxe6+,Kh8,Bxc3', 'https://lichess.org/training/c5f9E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C5gI5', 'Blitz', 'KramnikZero', 2325, 'Fantasy78', 2330, 'c4,c5,d3,Nf6,g3,g6,Bg2,Bg7,Nf3,O-O,O-O,d6,Nc3,e5,Bg5,h6,Bxf6,Bxf6,Nd5,Bg7,Rb1,a5,a3,Nc6,b4,axb4,axb4,b6,bxc5,bxc5,Nb6,Ra6,Nxc8,Qxc8,Nd2,f5,e3,Nb4,Qe2,Ra3,Rb3,Ra2,Rfb1,g5,h4,f4,hxg5,hxg5,gxf4,gxf4,Qh5,Qf5,Qxf5,Rxf5,Ne4,fxe3,fxe3,Bh6,Re1,Nc2,Nxd6,Rf6,Rb8+,Bf8,Re2,Ra1+,Kh2,Ne1,Bd5+,Kh7,Be4+,Kh6,Kg3,Bxd6', 'Rh2+,Kg5,Rg8+,Rg6,Rxg6#', 'https://lichess.org/training/C5gI5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C5IxF', 'Rapid', 'UriyBelg', 1685, 'Nestor0805', 1698, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,Bd4,c3,Bb6,Bd5,O-O,Bxc6,dxc6,Nxe5,Qd6,Bf4,Ng4,Nxg4', 'Qxf4,Ne3,Bxe3,fxe3,Qxe3+', 'https://lichess.org/training/C5IxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C5iXY', 'Rapid', 'MIXFair', 1691, 'Vovan-number_2', 2006, 'd4,g6,e3,Bg7,f4,Nf6,Nf3,d6,Bd3,O-O,O-O,Nbd7,c3,Re8,Bd2,e5,fxe5,dxe5,dxe5,Nxe5,Nxe5,Rxe5,Bc2,Bg4,Qe1,Ne4,h3,Nxd2,Nxd2,Be6,Nf3,Rd5,Rd1,Rxd1,Qxd1,Qe7,Qe2,Rd8,Rd1,Rxd1+,Qxd1,Bc4,Qd2,Bh6,Kf2,Bb5,Nd4,Bd7,Bb3,Qh4+,Kf1,Qg3,Qf2,Qxe3', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/C5iXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c5K1F', 'Blitz', 'DLJ85', 1646, 'sssahoo', 1756, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Be3,Qe7,O-O,O-O,c3,Na5,Bb5,c6,Ba4,b5,Bc2,b4,Re1,bxc3,bxc3,Bb6,d4,exd4,cxd4,d6,Qd3,Rd8,Nc3,Nb7,Rad1,a5,d5,Bxe3,Rxe3,Nc5,Qd2,Qc7,Rde1,cxd5,Nxd5,Nxd5,exd5,Ba6,Qd4,Nd7,Qh4,Qxc2,Ng5,Nf6,Ne4,Nxe4,Rxe4,Qxa2', 'Qxd8+,Rxd8,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/c5K1F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C5OV9', 'Rapid', 'CHESS-NUR-DIAS', 1979, 'WadeWilson', 2025, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,O-O,d6,h3,Bd7,Qd2,Nxd4,Bxd4,Bc6,Bd3,Nd7,Be3,Nc5,f3,a5,Rad1,a4,a3,Qa5,Bh6,Bxh6,Qxh6,Ne6,f4,Qb6+,Kh1,Qxb2,f5,Nc5,fxg6,fxg6,Nd5,Bxd5,exd5,Nxd3,cxd3,Qe2,Rfe1,Qc2,Rc1,Qxd3', 'Rxe7,Rf7,Rxf7', 'https://lichess.org/training/C5OV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c5p1D', 'Rapid', 'charles1953', 1828, 'hankpohan', 1821, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,f3,c6,Nge2,Bd6,Ng3,Qc7,Nce2,Be6,Qd3,Nbd7,Bd2,O-O,O-O-O,b5,Nf5,Bxf5,Qxf5,a5,g3,Nb6,Bf4,Nc4,Bxd6,Qxd6,Nc3,Ne3,Qe5,Qxe5,dxe5,Nxd1,Nxd1,Nd7,f4,f6,Bh3,Rad8', 'e6,Rfe8,exd7', 'https://lichess.org/training/c5p1D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c5PAT', 'Classical', 'ali_iraq', 1642, 'Phwess', 1600, 'd4,d5,c4,e6,Bf4,Bd7,e3,h6,Bd3,Bb4+,Nc3,c5,Ne2,cxd4,exd4,Nf6,a3,Bxc3+,bxc3,O-O,cxd5,Nxd5,Be5,Qa5,Qd2,Nc6,O-O,Nxe5,dxe5,Rac8,Rfc1,Ne7,Qb2,Qxe5,Qxb7,Rc7,Qb2,Bc6,Qb4,Qd5,f3,Qxd3,Qf4,Qxe2,Qxc7,Qe3+,Kh1,Qc5,Qf4,Nd5,Qe5,Rc8,c4,Qe3,Qxe3,Nxe3,Rc3,Nf5,Rb1,Bd5,Rcb3,Bxc4,Rb8,Rxb8,Rxb8+,Kh7,Rb7,e5,Rxa7,Bd5,Ra5,Ne7,Rb5,e4,fxe4,Bxe4', 'Re5,f5,Rxe7', 'https://lichess.org/training/c5PAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C5qKL', 'Blitz', 'jackster31415', 1899, 'tinytiger42', 1893, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,Bg4,O-O,Nc6,Bg5,Ne5,Nbd2,Bxf3,Nxf3,Nxc4,Bxf6,gxf6,dxc4,h5,Qd5,Qd7,Rad1,h4,h3,Rg8,Kh2,O-O-O,Nxh4,Rh8,Nf3,e6,Qd3,Be7,Qb3,Rh5,a4,Rdh8,Rd3,Rg8,Rfd1,e5,Qb5', 'Rxg2+,Kxg2,Qxh3+,Kg1,Qh1#', 'https://lichess.org/training/C5qKL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C5Rq3', 'Rapid', 'Butron', 1835, 'deorinidei', 1961, 'd4,d5,Nc3,Nf6,Bg5,e6,a3,Be7,e3,O-O,Bd3,h6,Bh4,b6,h3,c5,dxc5,bxc5,Nf3,c4,Be2,Nc6,O-O,Bb7,Bg3,Bd6,Bxd6,Qxd6,Nd4,Nxd4,Qxd4,Rfd8,Bf3,e5,Qh4,Rab8,Rab1,d4,Bxb7,Rxb7,exd4,exd4,Ne4,Nxe4,Qxe4,Re7,Qf3,d3,Rbd1,Red7,cxd3,cxd3,Rfe1,d2,Re2,Qb6,Qc3,Rd3,Qb4,Qxb4,axb4,f5,Kf1,Kf7,Re3,R3d4,b5,g5,Rb3,Kf6,f3,h5,Ke2,g4,b6,axb6,Rxb6+,Kg5,hxg4,hxg4,fxg4,Kxg4,Rg6+,Kh5,Rg7,Re8+,Kf2,Rf4+,Kg3,Rd4', 'Rh1+,Rh4,Rxh4#', 'https://lichess.org/training/C5Rq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c5uTU', 'Rapid', 'hibooo', 1546, 'gioemme', 1573, 'e4,e5,b3,Nf6,d3,Bc5,Bb2,d6,Nc3,Ng4,Nh3,Qf6,f3,Ne3,Qd2,O-O,Nd5,Nxd5,exd5,Bxh3,gxh3,Qxf3,Bg2,Qe3+,Qxe3,Bxe3,Bc1,Bd4,Rb1,Bc3+,Bd2,Bd4,Ke2,Re8,Bf3,c6,dxc6,bxc6,Be3,Na6,Bxc6,Nb4,Bxa8,Rxa8,Bxd4,exd4,Rb2,Re8+,Kd2,Nd5,c4,Nf4,h4,Re2+,Kc1,Rxb2,Kxb2,Nxd3+,Kc2,Nb4+,Kb2,Nd3+,Ka3,Nf2,Re1,h6,Re7', 'd3,Re8+,Kh7,Rd8,d2', 'https://lichess.org/training/c5uTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c5uUB', 'Rapid', 'Spiridon', 2192, 'sergipechess', 1762, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,a6,Nf3,d6,Bc4,e6,O-O,Nc6,Qe2,Nf6,Rd1,Qc7,Bf4,e5,Be3,Be7,h3,O-O,Rac1,h6,a3,Be6,Bxe6,fxe6,b4,Rad8,Qa2,Qd7,Qb3,Kh8,a4,d5,b5,axb5,axb5,Na5,Qa2,Nc4,exd5,exd5,Nxd5,Nxe3,Nxe3,Qxb5,Qe6,Ba3,Rb1,Rxd1+,Rxd1,Bc5,Nxe5,Bxe3', 'Ng6+,Kh7,Nxf8+', 'https://lichess.org/training/c5uUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C5VUZ', 'Rapid', 'zashem', 1841, 'Salah_hmdan', 1738, 'd4,d5,Bf4,e6,e3,Be7,Nf3,Nf6,h3,O-O,g4,Ne4,Nbd2,Bh4,Nxh4,Qxh4,Qe2,Nc6,O-O-O,Nxf2,Rg1,Nxd1,Qxd1,Qe7,g5,Nb4,Kb1,c5,c3,Nc6,Qc2,c4,h4,e5,dxe5,Nxe5,Qd1,Ng6,h5,Nxf4,exf4,Bf5+,Ka1,Qe3,Nf3,Qxf4,Nd4,Be4,g6,fxg6,Ne6,Qe3,Bg2,Rf6,Bxe4,Qxe4,Nd4,Raf8,hxg6,Rxg6,Re1,Qg4,Qc1,Rgf6,a3,Qd7,Ka2,Qa4,Qg5,Qd7,Re5,Rg6,Qe3,b5,Re7,Qc8,Nxb5,a6,Nd4,a5,Qe5,Qa8,Ne6,Re8', 'Rxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/C5VUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C5ZOt', 'Rapid', 'jarip', 1721, 'Gebruikersnaam', 1710, 'e4,c5,Bc4,e6,a3,Nc6,c3,Be7,Nf3,Nf6,Qe2,O-O,e5,Ng4,h3,Ngxe5,Nxe5,Nxe5,Qxe5,Bf6,Qg3,d5,Be2,Qb6,d4,cxd4,cxd4,Bxd4,O-O,e5,Bh6,e4,Be3,Bxe3,fxe3', 'Qxb2,Nc3,Qxc3', 'https://lichess.org/training/C5ZOt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c5zvV', 'Rapid', 'mohammadhosein1384', 1762, 'Luuuntik', 1638, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d3,a6,Ba4,b5,Bb3,Na5,Nc3,Nxb3,axb3,d6,Nxb5,Bg4,Nc3,Nc6,h3,Bh5,Bg5', 'Bxf3,Qxf3,Qxg5', 'https://lichess.org/training/c5zvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c60fB', 'Rapid', 'jaikushwaha', 1600, 'corfst', 1606, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,d5,exd5,exd5,Bb5,Nf6,Bg5,Qa5+,Nc3,d4,Qe2+,Be6,b4,Qxb4,Bxc6+,bxc6,O-O,Be7,Bxf6,Bxf6,Ne4,Be7,Rab1,Qa5,Neg5,O-O,Nxe6,fxe6,Qxe6+,Kh8,Qxe7,Rae8,Qd7,Qxa2,Ng5,c4,Ra1,Qxc2,Rxa7', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/c60fB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C61cj', 'Rapid', 'Girl_Infinity', 1886, 'TheNextPaulKeres', 1902, 'b3,d5,Bb2,c5,e3,Nc6,Nf3,Nf6,Be2,Bg4,O-O,e6,h3,Bh5,d4,Rc8,c4,Bg6,Nbd2,cxd4,Nxd4,Be7,cxd5,exd5,N2f3,O-O,Rc1,Nxd4,Nxd4,Qa5,a4,Ne4,Nb5,a6,Nd4,Bf6,Bd3,h6,Re1,Qb6,f3,Nd6,Bxg6,fxg6,Ne6', 'Bxb2,Rxc8,Rxc8', 'https://lichess.org/training/C61cj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C63pH', 'Rapid', 'imaxchess', 2190, 'momo_klaus', 2075, 'e4,e5,f4,exf4,Nf3,d6,d3,g5,h4,g4,Ng5,f6,Bxf4,fxg5,hxg5,Nc6,Nc3,Bg7,Be2,Be6,Bxg4,Qd7,Bh5+,Bf7,O-O,O-O-O,Bxf7,Qxf7,Bxd6,Qg6,Bf4,h6,Qg4+,Kb8,Nd5,hxg5', 'Bxc7+,Ka8,Bxd8,Bd4+,Rf2', 'https://lichess.org/training/C63pH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c67sj', 'Rapid', 'Jugando_ajedrez', 1628, 'sasalukic69', 1855, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,Qc3,Qxc3+,Nxc3,Bb4,Bd2,c6,Bd3,d6,a3,Bxc3,Bxc3,f6,O-O-O,Bd7,Rhf1,Ne7,f4,O-O-O,e5,dxe5,fxe5,Nd5,Bd4,fxe5,Bxe5,Ne3,Rf7,Nxd1,Kxd1,Rhf8,Rxg7,Bf5,Rc7+,Kb8,Rxc6+,Ka8,Rd6,Bxd3,cxd3,Rxd6,Bxd6,Rf7,Bg3,a6,Kd2,b5,b4,Kb7,d4,Kc6,Kd3,Kd5,Ke3,Kc4,Ke4,Kb3,d5,Kxa3,d6,Kxb4,Kd5,a5,Ke6,Rf1', 'd7,Rd1,Bd6+', 'https://lichess.org/training/c67sj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c67u6', 'Rapid', 'Not_Happi', 1746, 'fourestfire', 1894, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bc4,O-O,Be3,Re8,Qd2,b5,Bd3,Na6,c3,Nc7,O-O,h6,Bxh6,gxh6,Qxh6,f5,Ng5,Ne6', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/c67u6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C6B0e', 'Blitz', 'daniush', 1923, 'cargazul33', 2239, 'e4,g6,Nf3,d6,d4,Bg7,Bd3,a6,Bg5,h6,Be3,Nd7,c4,c5,Qc2,cxd4,Bxd4,Ngf6,O-O,O-O,Be3,Ne5,Nxe5,dxe5,Nc3,e6,Rad1,Qc7,b3,b6,Na4,Nd7,Qd2,Kh7,Qb4,Rb8,Qd2,f5,f4,Bb7,Nc3,Nc5,exf5,gxf5,fxe5,Bxe5,h3,Rg8,Rf2,Bh2+,Kf1,Bg3,Re2,Rbd8,Qc2,Ne4,Nxe4,fxe4,Bxe4+,Bxe4,Qxe4+,Rg6,Rxd8,Qxd8,Rd2,Qf8+,Kg1,Qf5,Rd7+,Rg7,Rxg7+,Kxg7,Qb7+,Kg6,Qxb6', 'Qb1+,Bc1,Qxc1#', 'https://lichess.org/training/C6B0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c6Fky', 'Rapid', 'for_fun_player', 1770, 'Kagoori', 1758, 'd4,Nf6,Bf4,d6,Nf3,g6,e3,Bg7,c4,O-O,b4,b6,a3,Nbd7,Nbd2,Re8,Be2,Ba6,O-O,c5,b5,Bb7,d5,Nh5,Bg5,h6,Bh4,g5,Bg3,Nxg3,hxg3,Ne5,Nxe5,Bxe5,Rc1,Qd7,Nf3,Bg7,a4,e6,dxe6,fxe6,Qc2,Qf7,Rfd1,Rad8,Rd2,Re7,Nh2,e5,Bf3,Bxf3,Nxf3,Red7,Rcd1,d5,cxd5,Rxd5,Rxd5,Rxd5,Rxd5,Qxd5,Kh2,e4,Nd2,Qd3,Qxd3', 'exd3,Nc4,Bc3,Kg1,d2,Nxd2,Bxd2', 'https://lichess.org/training/c6Fky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c6fOK', 'Rapid', 'Jay005', 1738, 'yohihi91', 1776, 'e4,d6,Bc4,e5,Qf3,Nf6,d3,Be7,h3,Nc6,Be3,O-O,a3,Nd4,Bxd4,exd4,Nd2,c5,O-O-O,a6,Re1,b5,Bd5,Nxd5,exd5,Bg5,Rd1,b4,axb4,cxb4,b3,a5,Kb2,a4,bxa4,Rxa4,Nb3,Bf6,Ra1,Rxa1,Nxa1,Qb6,Ne2,Bb7,Nb3,Rb8,Qe4,Qa6,Ra1,Qb6,Re1,Be5,Nexd4,Kf8,Kc1,Bxd4', 'Qe7+,Kg8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/c6fOK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c6ggi', 'Rapid', 'Syahara', 1864, 'chessGODpressflag', 1813, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nbd7,Bf4,c5,cxd5,exd5,e3,a6,Ne5,cxd4,exd4,Bd6,Bd3,O-O,O-O,b5,Re1,Qb6,Bc2,Bb7,Bg3,Rac8,Rc1,Rfe8,f4,Bxe5,fxe5,Rxc3,bxc3,Ne4,Bxe4,dxe4,Qg4,Nxe5,Bxe5,Rxe5,Kh1,Re6,Qf4,h6,Rcd1,Rg6,d5,Qc5,Rxe4,Bxd5,Re8+,Kh7,Re2,Qxc3,h3,Qc6,Rdd2,Rf6,Qg4,Rf1+,Kh2,Qd6+,Qg3,Rh1+,Kxh1,Qxg3,Rxd5,Qa3,Rdd2,b4,Kh2,Qc3,Rc2,Qf6,Rf2,Qe5+,Kh1,a5,Rb2,a4,Rfe2,Qd4,Rbd2,Qa1+,Kh2,b3,axb3,axb3,h4,Qf6,Kh3,Qf5+,Kh2,g5,hxg5,hxg5,Rf2,Qe5+,Kh1,f6,Rfe2,Qa1+,Kh2,Kg6,g3,f5,Rd6+,Kh5,Rdd2,f4,gxf4,gxf4,Rd5+,Kg4,Rg2+,Kf3,Rdd2,Qh8+,Kg1,Qa1+,Kh2,Ke3,Rge2+,Kf3,Rf2+,Ke3,Rb2,f3,Kg3,Qxb2', 'Rxb2,Kd3,Rxb3+', 'https://lichess.org/training/c6ggi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c6gtC', 'Classical', 'jojo9015', 1845, 'DrPratham365', 2040, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Be7,e5,Ng4,Re1,d6,e6,fxe6,Bxe6,Bxe6,Rxe6,O-O,Nbd2,Nce5,Qe1,Qd7,Nxd4,c5,Rxe5,Nxe5,N4f3,Nxf3+,Nxf3,Rae8,Be3,Qg4,Qd1,Rd8,Qd5+,Kh8,h3,Qg6,Qxb7,Bf6,c4,Rb8,Qd5,Bxb2,Rf1,Rf5,Qc6,Rbf8', 'Nh4,Qf6,Nxf5', 'https://lichess.org/training/c6gtC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C6jeg', 'Rapid', 'Akbaruz', 2007, 'FumadorDos', 1959, 'e4,e6,Nf3,c5,Be2,Nc6,O-O,a6,d4,cxd4,Nxd4,Qc7,Nc3,Nf6,g3,Be7,Kh1,O-O,f4,b5,f5,Bb7,fxe6,dxe6,Bg5,b4,Bxf6,Bxf6,Rxf6,gxf6,Nd5,exd5,Nf5,Qe5,Bd3,dxe4', 'Qg4+,Kh8,Qg7#', 'https://lichess.org/training/C6jeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c6jgY', 'Blitz', 'Safavi_87', 2417, 'GM Pap-G', 2618, 'e4,e5,Bc4,c6,Nc3,Nf6,Nf3,d5,exd5,e4,Qe2,cxd5,Nxd5,Nxd5,Qxe4+,Be6,d3,Nc6,Ng5,Qd7,O-O,O-O-O,Nxe6,Qxe6,Qxe6+,fxe6,c3,Ne5,Re1,Nxc4,dxc4,Nf6,Be3,b6,a4,Bc5,a5,Bxe3,Rxe3,Kb7,axb6,axb6,Rxe6,Rhe8,Rxe8,Rxe8,Kf1,Rc8,b3,Ne4,Ke2,Rd8,Ke3,Nxc3,f4,Rd7,g4,Kc6,f5,Kc5,Ra8,Na2,g5,Nc1,Rc8+,Kd6,b4,Ke5,c5,bxc5', 'Rxc5+,Kd6,Rxc1', 'https://lichess.org/training/c6jgY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C6jWJ', 'Classical', 'galvas', 1616, 'bpchassain', 1678, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Nxe4,Bd3,Nc5,Be2,d6,exd6,Bxd6,Be3,Be6,Nc3,Nd7,O-O,a6,Nd4,Nxd4,Bxd4,Nf6,a3,O-O,Qd2,c5,Bxf6', 'Bxh2+,Kxh2,Qxd2', 'https://lichess.org/training/C6jWJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c6O37', 'Rapid', 'Madwaraj', 2012, 'enensakhafra', 1996, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bb5,Bc5,Re2,O-O,Bxc6,bxc6,Nxe5,Qf6,d4,Bb6,c3,Re8,Nd2,Rxe5,dxe5,Bxf2+,Kh1', 'Ng3+,hxg3,Qh6#', 'https://lichess.org/training/c6O37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C6oiF', 'Rapid', 'Pequili', 1642, 'G__K', 1689, 'e4,c5,Nf3,d6,Nc3,a6,Bc4,e6,d3,b5,Bb3,Bb7,Be3,Nf6,e5,dxe5,Nxe5,Qc7,Bf4,Bd6,Qe2,O-O,h4,Bxe5,Bxe5,Qc6,Bxf6,Qxg2,O-O-O,Bf3,Rdg1,Qxh1,Rxh1,Bxe2,Bxg7,Kxg7,Nxe2,Nd7,Nf4,Kf6,Rg1,Nb6,Nh5+,Ke5,Rg5+,f5,f4+,Kd4,Rg3,c4,c3+,Kc5,d4+,Kd5,Bd1,Ke4', 'Bf3+,Ke3,Bxa8+', 'https://lichess.org/training/C6oiF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c6re7', 'Rapid', 'yaka2sete', 2132, 'shaan1990', 2022, 'd4,d5,c4,Bf5,Nc3,e6,cxd5,exd5,Qb3,b6,Qxd5,Qxd5,Nxd5,Bd6,f3,Nc6,e4,Be6,Bb5,Kd7,Bd2,a6,Bxc6+,Kxc6,Nc3,Kb7,Nge2,Bc4,Kf2,Bb4,a3,Bxe2,Kxe2,Bxc3,bxc3,Nf6,Rab1,h6,c4,Rad8,Bc3,Nh5,g3,Rhe8,Kf2,Nf6,Rhe1,g5,d5,Nd7,e5,Nc5,Rbd1,h5,f4,gxf4,gxf4,Rg8,f5,Rg4,Bd4,Nb3,Ke3,Rh4,Rd3,Rh3+,Ke4,Rh4+,Ke3,Nxd4,Rxd4,Rxh2,e6,fxe6,fxe6,Rh3+,Ke4,Rg8,Rf1,Rh4+,Kd3', 'Rg3+,Ke2,Rxd4', 'https://lichess.org/training/c6re7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C6vji', 'Blitz', 'Rapers', 1552, 'NM Insterburg', 2298, 'e4,c5,Nf3,Nc6,d3,e6,Nbd2,d5,g3,Nf6,Bg2,Be7,O-O,Kf8,Re1,h6,Qe2,dxe4,dxe4,b6,c3,Bb7,Nb3,Qc7,h4,Ng4,Nh2,Nxh2,Kxh2,e5,f4,g5,fxg5,hxg5,Bxg5,Bxg5,Rf1,Qe7,Rf5,Bc8,Rf2,Be6,Raf1,Kg7,Kg1,Bh6,g4,Bf4,h5,Qg5,Bh3,Rxh5,Kg2,Rxh3,Kxh3,Bxg4+,Qxg4', 'Rh8+,Kg2,Qxg4#', 'https://lichess.org/training/C6vji');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C6wac', 'Classical', 'yessimus', 1770, 'visokos', 1775, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be7,Nc3,O-O,Bf4,Re8,O-O,c6,Re1,Bg4,Be2,Bb4,Ne5,Bxe2,Rxe2,Bxc3,bxc3,Ne4,c4', 'Nc3,Qe1,Nxe2+', 'https://lichess.org/training/C6wac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c6wBV', 'Blitz', 'KitanaProdigy', 1879, 'omery1mz', 1679, 'e4,e5,f4,d5,Nf3,dxe4,Nxe5,Nf6,Bc4,Be6,Bxe6,fxe6,O-O,Bc5+,Kh1,O-O,b3,Nbd7,Bb2,Nxe5,Bxe5,Bd6,Nc3,Bxe5,fxe5,Nd5,Nxd5,exd5,Qg4,Qe7,Qg3,c5,h3,Rae8,Rxf8+,Rxf8,d3,exd3,cxd3,d4,Re1,Re8,Qf3,a6,Qd5+,Kh8,b4,b6,bxc5,bxc5,e6,h6,Qd7,Kh7,Qxe7,Rxe7,Re5,Kg6,Kg1,Kf6,Rxc5,Rxe6,Rd5,Re1+,Kf2,Rd1,Ke2,Ra1,Ra5,Rb1,Rxa6+,Kg5,Ra4,Rb2+,Kf3,Rd2,h4+,Kg6,Rxd4,Rxa2,Rd6+,Kh5,Rd5+,Kxh4', 'g3+,Kh3,Rh5#', 'https://lichess.org/training/c6wBV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c6wCI', 'Rapid', 'rapwat', 2070, 'Dhkh', 2111, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Nxe7,Qxe7,Qf3,Nd4,Qd3,h6,Be3,Bb7,f3,d5,exd5,Nxd5,O-O-O,Nxe3,Qxe3,Qg5,f4,Qg4,Qxe5+,Ne6,Bxb5+,axb5,Qxb5+,Kf8,Qxb7,Qxf4+,Kb1,Rb8,Qf3,Qb4,Qb3,Qf4,Qf3,Qb4,Qb3,Qf4,Nb5,Ke7,Qa3+,Ke8,Rhe1,Rxb5,Qa8+,Rb8,Qc6+,Kf8,Rf1,Qb4,b3,Kg8,Rd7,Kh7,Rdxf7,Nd4,Qe4+,Kg8,Qg6,Rh7,Rd1,Ne2,Rd3,Qa3,Rfd7', 'Qc1#', 'https://lichess.org/training/c6wCI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C6XUH', 'Rapid', 'Zahid01', 1795, 'Dake260571', 1831, 'd4,e6,Bf4,c5,e3,cxd4,exd4,Nc6,c3,Nf6,Nf3,d6,Bd3,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Be7,O-O,O-O,Qc2,g6,Nd2,b6,Ne4,Bb7,Rad1,Nxe4,Bxe4,Qc8,Rfe1,Bxe4,Qxe4,f6,Bf4,Bc5,Bh6,Rf7,Qd5,Bf8,Bxf8,Qxf8,Re6,Kg7,Rd6,Re8,h3,Rfe7,Rd7,Rxd7,Qxd7+,Re7,Qc6,Qf7,a4,h5,Rd8,f5,Kf1,Qa2,g3,Qxb2,Qc4,Qc1+', 'Kg2,Qe1,Qg8+', 'https://lichess.org/training/C6XUH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C6xZa', 'Rapid', 'andrekajaquim', 1841, 'Richard64', 1755, 'e4,c5,Nf3,d6,Bc4,Bd7,O-O,a6,a4,e6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Nd2,Nc6,Nxc6,bxc6,Bb3,O-O,f4,h6,Bh4,Qb6+,Kh1,c5,e5,dxe5,fxe5,Nd5,Bxd5,Bxh4,Bxa8,Rxa8,Qf3,Bc6,Qxf7+,Kh8,Qxe6', 'Bxg2+,Kxg2,Qxe6', 'https://lichess.org/training/C6xZa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C6yq6', 'Rapid', 'landy17', 1968, 'Titanik14', 2050, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,e6,Nf3,a6,O-O,b5,Bb3,Bb7,Qe2,Nd7,Rd1,Nc5,Bc2,Qc7,b4,Nd7,Bb2,Rc8,Rac1,Qb8,a4,Bc6,a5,Ne7,Ng5,Ne5,f4,Nc4,Ba1,h6,Nf3,Na3,Bd3,Ng6,f5,Nf4,Qe3,Nxd3,Qxd3,Nc4,fxe6,fxe6,e5,Qa7+,Kh1,Qf7,exd6,Bxd6,Ne4,Bxe4,Qxe4,O-O,Nd4,Be5,h3,Bxd4,Qxd4,Rcd8,Qxd8,Rxd8,Rxd8+,Kh7,Rcd1,e5,R8d7,Qf2,R7d5,Qe2,R5d3,Qe4,Bc3', 'Ne3,Rxe3,Qxe3', 'https://lichess.org/training/C6yq6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c755k', 'Rapid', 'GranAL', 2215, 'mswest46', 2090, 'f4,d5,Nf3,g6,e3,Bg7,Be2,c5,O-O,Nc6,d3,Nf6,Nc3,b6,e4,dxe4,dxe4,Qxd1,Rxd1,O-O,h3,Bb7,e5,Nh5,g4,Ng3,Bd3,h5,Kh2,Nd4,Nxd4,cxd4,Nb5,h4,Nxd4,Rfd8,Be3,g5,Nf5,gxf4,Bxf4,Ne4,Nxe7+,Kf8,Nf5,Nf2,Rd2,Nxd3,Rxd3,Rxd3,cxd3,Rd8,d4,Be4,Nxh4,Rxd4,Rc1,Bd5,Bg5,Bxe5+,Kg1,Bb7,Nf5,Rd3,h4,f6,Bh6+,Kf7,Rc4,b5,Rc5,Bf3,g5,Kg6,Ne7+,Kf7,g6+,Kxe7,g7,Rd8,Rxb5,Kf7,Kf2,Bd5,h5,Bd4+,Ke1,f5,Bg5,Bc6', 'Rxf5+,Kxg7,Bxd8', 'https://lichess.org/training/c755k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C77QR', 'Blitz', 'chespivara', 2075, 'emmerich1992', 2080, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,Re1,O-O,Nc3,d6,h3,a6,d4,exd4,Nxd4,Ne5,Bb3,b5,a3,c5,Nf5,Bxf5,exf5,c4,Ba2,Qb6,Be3,Qc6,Bf4,Rad8,Qe2,Rfe8,Bxe5,dxe5,Rad1,Rxd1,Qxd1,Bc5,a4,Bd4,axb5,axb5,Ne2,Bxb2,c3,Ba3,Ng3,Bc5,Bb1,Qc7,Be4,Rb8,Nh5,Nxh5,Qxh5,f6,Rd1,Rd8,Bd5+,Kh8,Be6,Rxd1+,Qxd1,Qd6,Qh5,Qd8,Bf7,Qb8,Bg6,h6,Bf7,b4,cxb4,Qxb4,Be6,Qb8,Qf7,c3,Bb3,Bd4,g4,Qd8,h4,Bxf2+,Kxf2,Qd4+,Kf3,Qf4+,Ke2,Qxg4+,Kd3,Qd4+,Kc2', 'Qd2+,Kb1,Qb2#', 'https://lichess.org/training/C77QR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c79ac', 'Classical', 'threedoublepawns', 2075, 'Itsalladream', 1613, 'd4,Nf6,c4,d6,Nf3,Bg4,Nc3,g6,h3,Bxf3,exf3,Bg7,g3,O-O,Bg2,d5,f4,e6,O-O,Nc6,Be3,dxc4,Bxc6,bxc6,Qa4,Rb8,Rab1,Qd6,Qxc4,Rb4,Qa6,Ra8,Rfc1,h5,h4,Ng4,Ne4,Qd5,Qxc6,Bxd4,Bxd4,Rxd4,f3', 'Rd1+,Rxd1,Qxc6', 'https://lichess.org/training/c79ac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c7C0v', 'Rapid', 'NM tufferguy', 2322, 'NM rychessmaster1', 2272, 'Nf3,d5,g3,Nf6,Bg2,g6,O-O,Bg7,d3,O-O,Nbd2,d4,e4,dxe3,fxe3,Nc6,Nc4,Bg4,h3,Be6,Nfd2,Nd5,Ne4,Ne5,Nc5,Qc8,Nxe5,Bxe5,Qf3,c6,d4,Bg7,Nxe6,Qxe6,c3,f5,Bd2,Nf6,b3,Bh6,Rae1,Ne4,Bc1,Nxc3,e4,Bxc1,Qxc3,Bg5,exf5,Qd6,Re6,Qd7,Qc4,Kg7,d5,cxd5,Bxd5,Rad8,Bg2,Rxf5,Rxf5,gxf5,Re5,Bf6,Rd5,Qe8,Rxf5,Qg6,Rf4,h5,Rf3,Rd1+,Kh2,h4,Qe6,Rd6,Qc8', 'hxg3+,Rxg3,Be5', 'https://lichess.org/training/c7C0v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c7dM6', 'Rapid', 'bobbylady', 1698, 'Trimplex', 1649, 'd3,e5,Nf3,Nc6,g3,d5,a3,d4,Bg2,Be6,Nbd2,f6,O-O,Qd7,Ne4,Bh3,Bh1,Bxf1,Qxf1,Be7,b4,f5,Nc5,Bxc5,bxc5,h6,Nh4,Nge7,Rb1,O-O-O,Qe1,g5,Nf3,Nd5,Bb2,Qe7,e4,fxe4,dxe4,Nc3,Bxc3,dxc3,Qxc3,Nd4,Nxd4,Rxd4,Qb3,Rhd8,Qxb7+,Kd7,c6+,Ke8,Bf3,Qf7,Be2,Rd2,Qb5,Rxc2,Qxe5+,Qe7', 'Bh5+,Kf8,Qh8#', 'https://lichess.org/training/c7dM6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C7eaa', 'Rapid', 'sayedthefirst', 1813, 'sunstart', 1830, 'c4,e6,Nc3,Nf6,e4,d6,d3,Be7,g3,a6,a4,Nc6,Bg2,e5,Nf3,Bg4,O-O,Nd4,Nd5,Nxd5,cxd5,c5,dxc6,bxc6,Be3,Nxf3+,Bxf3,Bxf3,Qxf3,O-O,Qg4,Kh8,f4,f6,f5,Rb8,Rab1,Rb3,Qd1,Rb4,Bd2,Rb7,b4,Qb6+,Kg2,Qd4,Rf3,d5', 'Be3,dxe4,Bxd4', 'https://lichess.org/training/C7eaa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c7EUC', 'Rapid', 'CharlyXYZ5', 2054, 'Unbreakable-1', 2176, 'e4,e5,f4,d5,Nf3,exf4,exd5,Nf6,Bb5+,c6,dxc6,Nxc6,d4,Bd6,Qe2+,Be6,Ng5,O-O,Nxe6,fxe6,Bxc6,bxc6,O-O,Nd5,Qxe6+,Kh8,h3,Rf6,Qe4,Qf8,c4,Re8,Qc2,Ne3,Bxe3,fxe3,Nc3,Rxf1+,Rxf1,Bh2+,Kxh2,Qxf1,Ne2,Rf8,d5,cxd5,cxd5,Qf5,Qc5,Qe5+,Kg1,Rd8,Qxa7,Qxb2,Qxe3,Qxa2,Nf4,Qb1+,Kh2,h6,h4,Qb8,Kh3,Qc8+,Kh2,Qc7,Kh3,Qd7+,Kh2,Qg4,g3,Ra8,d6,Qd1,Qe7,Qc2+,Kh3,Qf5+,Kh2,Ra2+,Ng2,Qd5,Qf8+,Kh7,Qf1,Qxd6', 'Qb1+,g6,Qxa2', 'https://lichess.org/training/c7EUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c7HsE', 'Classical', 'abdelmeguid', 1914, 'rolandfrank', 1939, 'e4,e5,Bc4,Be7,Nc3,Nf6,d3,O-O,f4,exf4,Bxf4,d6,Qd2,a6,Nf3,Nc6,h3,b5,Bd5,Nxd5,Nxd5,Be6,Nxe7+,Qxe7,O-O,f6,c3,Ne5,b3,Nxf3+,Rxf3,f5,Re1,Qd7,e5,d5,d4,h6,Kh2,Rf7,h4,Raf8,g3,c6,Ref1,Kh7,Qd3,Qe7,b4,Kh8,Qe2,g5,hxg5,hxg5,Be3,Rh7+,Kg2,g4,R3f2,Rg8,Rg1,Qe8,Kf1,Qh5,Ke1,Kg7,Kd2,Rgh8,Bf4,Qg6,Rgg2,Rh1,Rf1,R8h5,Qf2,Qh7,Rxh1,Rxh1,Rg1,Qh3,Rg2,Kg6,Ke2,Ra1,Rh2,Rxa2+', 'Bd2,f4,Rxh3', 'https://lichess.org/training/c7HsE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c7Ih6', 'Rapid', 'livelovelough', 2084, 'sukurovergas', 2116, 'c4,Nf6,g3,e6,Bg2,d5,d4,Be7,Nf3,b6,cxd5,exd5,Nc3,Bb7,O-O,O-O,Bf4,Nh5,Bd2,Nd7,Rc1,Rc8,Qb3,Nhf6,Ne1,c6,Nd3,Re8,e3,Bd6,Ne2,Ne4,Bb4,c5,dxc5,Ndxc5,Nxc5,Nxc5,Qd1,a5,Bxc5,Bxc5,Nf4,Rxe3,Bxd5,Bxd5,Qxd5,Qxd5,Nxd5,Re2,Nxb6,Bxf2+,Kh1,Rxc1,Rxc1,h6,Rc8+,Kh7,Nc4,Rc2,Rc7,f6,a3,Bd4,b3,Rc1+,Kg2,Rg1+,Kh3,Rh1,Nxa5', 'Bb6,Rc3,Bxa5', 'https://lichess.org/training/c7Ih6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c7K17', 'Rapid', 'Smokinghole', 2023, 'CarlosHenrique99', 2005, 'e4,c5,Nc3,Nf6,Bc4,e6,d3,d5,exd5,exd5,Bb3,Be7,f4,Be6,Nf3,Nc6,a3,Qd7,O-O,Bg4,Qe1,O-O,h3,Bf5,Ne5,Nxe5,fxe5,Ne8,Nxd5,Be6,Nxe7+,Qxe7,Qg3,Bxb3,cxb3,Qd7,Bd2,Rd8,Rf3,b5,Bc3,b4,axb4,cxb4,Bxb4', 'Qd4+,Qf2,Qxb4', 'https://lichess.org/training/c7K17');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C7kfF', 'Classical', 'forge82', 2007, 'abi-matz', 2020, 'd4,d5,Bg5,Nc6,e3,Bf5,c3,f6,Bh4,e6,Nd2,Bd6,Ne2,Nge7,Bg3,Ng6,Bxd6,Qxd6,g3,h6,Bg2,O-O-O,Qa4,Nge7,c4,g5,a3,Bd3,c5,Qd7,b4,a6,Qd1,h5,Nb3,Bc4,Nc3,h4,Bf1,hxg3,fxg3,Nf5,Qf3,g4,Qf2,Bxb3,b5,axb5,Bxb5,Bc4,a4,Bxb5,axb5,Nb8,Qe2,c6,Kd2,e5,Qxg4,exd4,exd4,Rhg8,Qf4,Rg5,b6,Na6,Rhb1,Nd6,Qxf6,Nc4+,Kc2,Qf5+,Qxf5+,Rxf5,Re1,Rf2+,Re2,Rxe2+,Nxe2,Re8,Kd1,Re3,Ke1,Kd7,Kf2,Ke6,Rc1,Ra3,Rc3,Ra2,Rf3,Nd2,Rf8,Ne4+,Kf3,Ng5+,Kf2,Nb4,h4,Ne4+,Kf3,Nd2+,Kg4,Ke7,Rb8,Ne4,Rxb7+,Kf6,Rc7,Rxe2', 'b7,Na6,Rxc6+', 'https://lichess.org/training/C7kfF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c7LDO', 'Rapid', 'WiseFalcon1', 2062, 'thezeus', 2018, 'c4,e6,g3,d5,Bg2,Nf6,Nf3,b6,Ne5,Bb7,Qa4+,Nbd7,O-O,Bd6,d4,Bxe5,dxe5,Ne4,cxd5,exd5,Rd1,Nc5,Qg4,g6,Bxd5,Nxe5,Bc6+', 'Bxc6,Rxd8+,Rxd8,Qh3,Rd1+', 'https://lichess.org/training/c7LDO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C7MNz', 'Blitz', 'Maurer747', 1868, 'HumanType', 1835, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Bxf6,gxf6,Na3,Be6,Nd5,Bxd5,Qxd5,Nb4,Qb3,d5,c3,Qa5,cxb4,Bxb4+,Ke2,dxe4,Rd1,O-O,Qd5,Qxd5,Rxd5,Rfd8,Rxd8+,Rxd8,Ke3,f5,Bc4,Bc5+,Ke2,f4,Nc2,b5,Bb3,a5,Rd1', 'f3+,gxf3,exf3+,Ke1,Bxf2+,Kxf2,Rxd1', 'https://lichess.org/training/C7MNz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C7MRj', 'Rapid', 'NM ChristopherChabris', 2301, 'DeltaBravoChess', 2225, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,fxe4,dxe4,Nf6,O-O,Bc5,Bxc6,bxc6,Nxe5,O-O,Nc3,d6,Nd3,Bd4,Qe1,Qe8,Be3,Bxc3,Qxc3,Qxe4,Rae1,Qa4,b3,Nd5,Qb2,Qg4,c4,Bf5,f3,Qg6,Nf2,Nxe3,Rxe3,a5,Rfe1,a4,Re7,axb3,axb3,Rfe8,Qe2,Rxe7,Qxe7,Qf7,g4,Bc2,c5,Bxb3,cxd6,cxd6,Qxd6,Qxf3,Qg3,Qf7,Ne4,Bd5,Nd6,Qf6,Nf5,Kh8,Qe3,h6,h3,Qb2,Re2,Ra1+,Kf2,Qb1,Re1,Ra2+,Kg3,Qb8+,Kh4,Kh7,Qe7,Qb2,Re5,Qxe5,Qxe5', 'g5+,Kg3,Rg2#', 'https://lichess.org/training/C7MRj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C7MYl', 'Blitz', 'FM Revan_2002', 2528, 'dorge1', 2051, 'd4,d5,h4,e6,h5,Nf6,c4,Be7,Nc3,O-O,h6,g6,cxd5,exd5,Nf3,c6,Bf4,Bg4,e3,Nbd7,Be2,Nh5,Bh2,Ndf6,Ne5,Bxe2,Qxe2,Nd7,g4,Nhf6,g5,Nh5,Nxd7,Qxd7,Be5,Bxg5,Rxh5,gxh5,Qxh5,f6,O-O-O,Qf7,Qg4,Kh8,Qxg5,fxe5,Rg1,Qg6,Qxe5+,Qf6,f4,Qxe5,dxe5,Rae8,Rg7,Rb8,Ne2,Rg8,Rf7,Rg2,Nd4,Rh2,Nf5,Rg8,Rg7,Rxg7', 'hxg7+,Kg8,e6', 'https://lichess.org/training/C7MYl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c7nQC', 'Rapid', 'nebojsa1234', 1648, 'WATCHTHEEE', 1721, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,h3,a6,Re1,h6,d4,exd4,Nd5,Re8,e5,Nxd5,Bxd5,d6,exd6,Rxe1+,Nxe1,Qxd6,Bc4,Be6,Bd3,Ne5,Qh5,Nxd3,Nxd3,Bb6,Bf4,Qd5,Qd1,Rd8,Nb4,Qc5,Nd3,Qb5,Qf3,c6,Qg3,Kf8,Be5,g6,Bd6+,Kg8,Be7,Rd7,Bf6,Qf5', 'Qb8+,Bd8,Bxd8', 'https://lichess.org/training/c7nQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C7OUq', 'Blitz', 'FM Kramnick95', 2465, 'napieterku', 2357, 'e4,e6,d4,d5,Nd2,Nf6,Bd3,c5,c3,Nc6,Ngf3,cxd4,cxd4,dxe4,Nxe4,Nxe4,Bxe4,Bb4+,Bd2,Bxd2+,Qxd2,Bd7,O-O,O-O,Ng5,h6,Nf3,Qa5,Qf4,Rac8,a3,Qb6,b4,Ne7,Rac1,Bc6,Ne5,Qxd4', 'Bh7+,Kxh7,Qxd4', 'https://lichess.org/training/C7OUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c7rZq', 'Rapid', 'Kartal55', 1747, 'IDenis1982', 1714, 'e4,e6,d4,d5,e5,c5,Bb5+,Nc6,dxc5,Bxc5,Be3,Bxe3,fxe3,Ne7,Nf3,Bd7,O-O,Nxe5,Bxd7+,Nxd7,Nc3,Qb6,Qc1,Nf5,Kh1,Nxe3,Re1,d4,Nxd4,Qxd4,Rxe3,O-O', 'Rd3,Qb6,Rxd7', 'https://lichess.org/training/c7rZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c7Uqn', 'Rapid', 'aseerr', 1811, 'Alexisander', 1933, 'e4,c5,f4,e6,e5,Nc6,Nf3,d5,Be2,Nge7,O-O,Nf5,c3,Be7,Bb5,Bd7,Ba4,O-O,Bc2,Nh4,a3,Nxf3+,Qxf3,f6,exf6,Rxf6,d3,Qf8,Qg3,Bd6,Re1,Bxf4,Bxf4,Rxf4,Nd2,Re8,Rf1,e5,Rxf4,exf4,Qf3,Qf7,Rf1,g5,d4,Re3,Qf2,cxd4,Nf3,h6,cxd4,Bg4,Ne5,Nxe5,dxe5,Rxe5,Qxa7,Qe7,Bb3,Kg7,h3,Be2,Re1,Ba6,Qd4,Kf6,Bxd5,Kf5,g4+,Kf6,h4,b6,Rc1,gxh4,Rc6+,Kg5,Rxb6,Re1+,Kh2,Qe2+,Bg2,Qxg4,Qg7+,Kf5,Rf6+,Ke5,Qe7+,Kd4,Rd6+,Kc5,Qc7+,Kb5,Qb6+,Kc4,Rc6+,Kd3,Qxa6+,Ke3,Re6+,Kf2,Qb6+,Re3,Rxe3', 'Qxg2#', 'https://lichess.org/training/c7Uqn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c7VRY', 'Rapid', 'rishabhjain2811', 1656, 'King-of-Kings', 1642, 'd4,e6,Bf4,d5,e3,a6,c3,h6,Bd3,Nf6,Nd2,Bd6,Bg3,O-O,Ngf3,Re8,Ne5,Bd7,Qc2,Nc6,h4,Ne7,Bh2,Nf5,Ndf3,Bxe5,dxe5,Ng4,Bf4,c5,h5,c4,Be2,f6,O-O-O,fxe5,Nxe5,Nxf2,g4,Nxh1,Rxh1,b5,gxf5,exf5,Bf3,Be6,Rd1,Qa5,Bxd5,Bxd5,Rxd5,Qxa2,Kd2,Rad8,Rxd8,Rxd8+,Ke2,Qa5', 'Nc6,Qb6,Nxd8', 'https://lichess.org/training/c7VRY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C82vB', 'Blitz', 'FM pasteta', 2451, 'Marshall__D__Teach', 2371, 'e4,c5,Ne2,e6,g3,d5,Bg2,dxe4,Nbc3,Nf6,Nxe4,Nxe4,Bxe4,Nd7,d3,Nf6,Bg2,Bd6,O-O,O-O,Nc3,a6,d4,cxd4,Qxd4,Qc7,Bg5,Be5,Qb4,h6,Be3,Bd6,Qh4,Qa5,Bxh6,gxh6,Qxf6,Qg5,Qd4,Bc5,Qc4,b5,Qe2,Rb8,Ne4,Qe7,Qh5,Bd4,Qxh6,Bxb2,c3,f5,Rab1,Ba3,Ng5,Qg7,Qxg7+,Kxg7,Rfe1,Rb6,Rbd1,Be7,h4,f4,Rd3,Bc5,Re2,a5,Kh2,b4,cxb4,axb4,Bh3,Ba6,Nxe6+,Rxe6,Rd7+,Re7,Rexe7+,Bxe7,Rxe7+,Kg8,Kg2,f3+,Kh2,Rd8,Be6+,Kh8,Rd7,Re8,Bd5,Re2,Bxf3,Rxf2+,Bg2,Bf1,Kg1,Rxg2+,Kxf1,Rxa2,Rd4', 'b3,Rb4,b2,Ke1,Ra1+', 'https://lichess.org/training/C82vB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c86Kw', 'Rapid', 'HeinerYTR', 1697, 'Knightblindness', 1614, 'e4,e5,Nf3,Qe7,d4,d6,dxe5,dxe5,Bg5,f6,Be3,g6,Nc3,c6,Bc4,h5,Qd2,Bh6,Bxh6,Nxh6,h3,Nd7,g4,hxg4,hxg4,Nf7', 'Bxf7+,Qxf7,Rxh8+', 'https://lichess.org/training/c86Kw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C879z', 'Blitz', 'ecohafid', 1625, 'Sowrry1953', 1668, 'd4,Nf6,Bf4,g6,Nf3,Bg7,Nc3,O-O,e4,d6,Bc4,c6,Qd2,Nbd7,Bh6,Re8,Ng5,Bxh6,Bxf7+,Kg7', 'Ne6+,Kxf7,Nxd8+,Rxd8,Qxh6', 'https://lichess.org/training/C879z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c8aiL', 'Blitz', 'harshjariya', 1766, 'Newton_Marsman', 1752, 'd4,d6,c4,g6,Nc3,Bg7,e4,Nf6,h3,c5,Be3,cxd4,Bxd4,Nc6,Be3,O-O,Nf3,b6,Be2,Bb7,O-O,Nd7,Rc1,Nce5,Nxe5,Nxe5,Bd4,Qd7,f4,Nc6,Bxg7,Kxg7,Bg4,e6,f5,exf5,exf5,Qe8,f6+,Kg8,Qd2,Kh8,Qh6,Rg8,Rce1,Ne5,Nd5,Bxd5,cxd5,Qb5,Rf4,Qxd5,Be6,Qxe6', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/c8aiL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8Ccw', 'Blitz', 'ThisSiteShadowBans', 2022, 'CineVar', 1959, 'e4,e6,d4,d5,exd5,exd5,Nf3,c5,c4,cxd4,Qxd4,Nc6,Qe3+,Be7,Be2,d4,Qb3,Nf6,O-O,O-O,Bd3,Be6,Bg5,h6,Bh4,g5,Bg3,Rc8,Nbd2,Nh5,Qxb7,Nxg3,hxg3,Rc7,Qb3,g4,Ne1,Bg5,Ne4,Ne5,Nxg5,hxg5,Rc1,f5,Qb5,Qf6,Qa5,Rh7,f3,gxf3,Rxf3,Qh8,Kf2,Re8,Bxf5,Bxf5,Rxf5,Ng4+,Kf3,Re3+,Kxg4', 'Rh4+,gxh4,Qxh4#', 'https://lichess.org/training/C8Ccw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8CmR', 'Rapid', 'Mikhail_Y_L', 1946, 'wedeli', 1990, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd2,Bc5,Bd3,d5,exd5,cxd5,O-O,Bd7,b4,Bb6,a4,Ne7,a5,Bd4,c3,Be5,f4,Bf6,g4,g6,g5,Bg7,h4,Nf5,Bxf5,gxf5,h5,Bb5,Rf3,Qc7,h6,Bf8,Na3,Bc6,b5,Bxa3,bxc6,Bc5+,Be3,Qxc6,Bxc5,Qxc5+,Kg2,Rb8,Qa4+,Rb5,Rb1,a6,Rf2,O-O,Rxb5,axb5,Qb3,Ra8,Ra2,Qc4,Qxc4,bxc4,Kf3,Kf8,Ke3,Ke7,Kd4,Kd6,a6,Kc6,Ke5,Kb6,Kf6,Rxa6,Rxa6+,Kxa6,Kg7,d4,Kxh7,d3', 'Kg7,d2,h7,d1=Q,h8=Q', 'https://lichess.org/training/C8CmR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8CpU', 'Blitz', 'Kuching', 2281, 'SKG_Stefan', 2236, 'd4,Nf6,Bg5,e6,e4,d6,Nc3,Be7,Qd2,Nc6,O-O-O,Bd7,f3,h6,Be3,a6,g4,Nh7,Nge2,e5,d5,Na7,Ng3,Nc8,Nf5,Bxf5,gxf5,Bg5,Rg1,Bxe3,Qxe3,Qf6,Kb1,Nb6,Rd2,Ng5,Rdg2,Rg8,Rg3,O-O-O,R1g2,Kb8,Qg1,g6,h4,Nh7,fxg6,fxg6,Rxg6,Rxg6,Rxg6,Qxf3,Rxh6,Nf6,Be2,Qf4,Qg5,Nxe4,Qxd8+,Ka7,Rh8,Nxc3+,bxc3,Na4,Qxc7,Qd2,Rc8', 'Qe1+,Bd1,Qxd1#', 'https://lichess.org/training/C8CpU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8Cw4', 'Blitz', 'vugargshmv', 1915, 'Araweth', 1979, 'd4,Nf6,Nf3,g6,e3,Bg7,Bd3,O-O,b3,d6,Bb2,Nbd7,Nbd2,e5,dxe5,dxe5,Nxe5,Nd5,Nxd7,Bxb2,Nxf8,Nc3,Qf3,Bxa1,Bc4,Bf5,e4,Nxe4,Nxe4,Bxe4', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/C8Cw4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c8ebE', 'Rapid', 'Sahotkrme', 1859, 'Carbonero5L', 1876, 'd4,e6,Nf3,d5,Bg5,Nf6,e3,Be7,Bd3,h6,Bh4,c6,c3,Nbd7,Nbd2,Qb6,b4,a5,a3,O-O,O-O,Re8,Qe2,axb4,axb4,Rxa1,Rxa1,Nf8,e4,dxe4,Nxe4,Nxe4,Qxe4,Ng6,Bxe7,Rxe7,Ne5,f5,Qe3,Nxe5,Qxe5,Qc7,Qe2,e5,Ra8,exd4', 'Rxc8+,Qxc8,Qxe7', 'https://lichess.org/training/c8ebE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8g9B', 'Blitz', 'sharparch', 1809, 'Joni_Stom', 1731, 'e4,e5,Nc3,Nc6,Bb5,d6,d3,Bd7,Bxc6,Bxc6,f4,exf4,Bxf4,Nf6,Nf3,Be7,O-O,h6,Nd4,Bd7,Bg3,Be6,Qe1,Nh5,Nf5,Bxf5,Rxf5,g6,Rf3,Qd7,Qf2,f6,Rf1,Rf8,Qd4,Qe6,Nd5,Qd7,Qc3,Nxg3,Rxg3,g5,Nxc7+,Kf7,Nxa8,Rxa8,Qd2,Rc8,h3,Qc7,Rf2,d5,Rgf3,dxe4,dxe4,Rd8,Rd3,Rxd3,Qxd3,Bc5,Qc4+,Kg7,Kf1,Qe5,Re2', 'Qf4+,Ke1,Qc1#', 'https://lichess.org/training/C8g9B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8GVP', 'Rapid', 'Knight_Rider2021', 1791, 'IAmArgie', 1781, 'd4,d5,c4,c6,Nc3,Nf6,h3,dxc4,e4,e6,Bxc4,b5,Bb3,Bb4,Bd2,Bxc3,bxc3,Nxe4,Nf3,Nxd2,Qxd2,O-O,O-O,Nd7,c4,bxc4,Bxc4,Nf6,Ne5,Nd5,Nxc6,Qc7,Bxd5,exd5,Rac1,Qd7,Rfe1,Re8,Re5,Bb7,Nb4,h6,Rc5,Rxe5,dxe5,d4,Qf4,d3,Qd2,Qe7,Nxd3,Rd8,Qe3', 'Rxd3,Qxd3,Qxc5', 'https://lichess.org/training/C8GVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8gwK', 'Rapid', 'g-iroh', 2020, 'NEXusssc', 2038, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,O-O,Nf6,e5,Ng4,Nxd4,Ngxe5,Bb3,O-O,Nc3,d6,Re1,Bf6,Be3,Nxd4,Bxd4,Bf5,Nd5,c6,Nxf6+,Qxf6,f4,Nf3+,gxf3,Qg6+,Kh1,a5,a4,Qh5,Rg1,g6,Qe2,Rfe8,Qf2,Re7,Bf6,Ree8,Rg3,d5,Rag1,Re6,Be5,f6,Bc7,Rae8,Bxa5', 'Re2,R3g2,Rxf2', 'https://lichess.org/training/C8gwK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8I0G', 'Rapid', 'Reginaldo-C-M-86', 1674, 'Snyp', 1685, 'e4,c5,Nf3,d6,Bc4,e6,O-O,Nc6,d4,cxd4,Nxd4,Qc7,Bb3,Be7,Be3,Nf6,Nxc6,Qxc6,Nc3,Nxe4', 'Ba4,Nxc3,Bxc6+', 'https://lichess.org/training/C8I0G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8K9S', 'Blitz', 'drfraude', 2254, 'Mikkel_Vinh', 2318, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,Nf6,Nf3,c5,c3,Nc6,Nbd2,O-O,Ne5,Qc7,f4,Nd7,Bd3,f6,Qh5,f5,Ndf3,Nf6,Qh3,cxd4,exd4,Ne4,O-O,Nxe5,fxe5,Be7,Bxe4,fxe4,Nd2,Bd7,Bh4,Bxh4,Qxh4,Rae8,Nb3,b6,Rae1,Bb5,Rxf8+,Rxf8,h3,Qf7,Re3,Qf1+,Kh2,h6,Rg3,Kh8,Qe7,Qf7,Qb4,Bd3,Nc1,Ba6,Qd6,Bc8,Ne2,Qf2,Ng1,Qf7,Rg4,Kh7,Ne2,Qe8,Ng3,Rf2,Qc7,Rf7,Qd6,Ba6,Nh5,Bc8', 'Rxg7+,Rxg7,Nf6+,Kg6,Nxe8', 'https://lichess.org/training/C8K9S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8ktP', 'Rapid', 'Steve_3131', 1698, 'perellum', 1742, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,a3,c5,c3,c4,Qg3,Nc6,Nf3,Qd7,O-O,O-O-O,Nfd2,h5,h4,g6,b3,cxb3,Nxb3,Nh6,Nc5,Bxc5,Bxh6,Rxh6,dxc5,Na5,f4,Nc4,Rd1,Qc6,Nd2,Qxc5+,Kh2,Ne3,Nb3,Ng4+', 'Qxg4,hxg4,Nxc5', 'https://lichess.org/training/C8ktP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c8la9', 'Blitz', 'IM chessmaxusa', 2469, 'Mazacrola', 2460, 'd4,Nf6,Nf3,c5,c3,e6,Bf4,b6,e3,Bb7,Nbd2,Be7,h3,O-O,Be2,d6,O-O,Nbd7,a4,a6,Bh2,Qc7,Re1,Rfd8,Bf1,Rac8,Nc4,cxd4,exd4,Re8,Nfd2,Bd5,Ne3,Bb7,Ndc4,Nd5,Qb3,N7f6,Qa3,Red8,Nxd5,Bxd5,Ne3,Bb7,Qb3,Bd5,Nxd5,Nxd5,Bxa6,Ra8,Bb5,Rdc8,Bg3,h6,Be2,Rab8,Bf3,Nf6,Qb5,Qa7,Re2,Qa5,Bc6,Kf8,Qxa5,bxa5,Bb5,Rb6,c4,Nh5,Bh2,Bg5,Re4,Be7,g4,Nf6,Re2,g5,Rc1,Nd5,Rec2,Nb4,Rd2,Nd5,Bg3,Nf4,Rcd1,Kg7,Kh2,Bf6,Re1,e5,Bxf4,gxf4,dxe5,Bxe5,Kg2,Rc5,Kf3,Kf6,Ke4,Rb8,Ree2,Rbc8,Rd5,Rxd5,Kxd5,Rc5+,Ke4,Ke6,Rd2,Rc7,h4,f6,f3,Rc5,Rg2,Rc7,g5,hxg5,hxg5,fxg5,Rxg5,Bxb2,Rg6+,Ke7,Kxf4,Rc5,Rh6', 'Bc1+,Kg3,Bxh6', 'https://lichess.org/training/c8la9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8mrD', 'Classical', 'sleepysloo', 1638, 'maeskarstens', 1634, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,h6,O-O,Bg4,Bxf7+,Kxf7,Ng5+,hxg5,Qxg4,Ke8,fxg5,Qe7,Nc3,Nd4,Nd5,Qd7', 'Rxf8+,Kxf8,Qxd7', 'https://lichess.org/training/C8mrD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8MSA', 'Rapid', 'anas406', 1819, 'rorobert', 1671, 'd4,Nf6,Bf4,d5,e3,c6,c3,Nbd7,Nf3,e5,dxe5,Ne4,Nbd2,g6,Bd3,Nxd2,Qxd2,Bg7,h4,Qe7,h5,Bxe5,Nxe5,Nxe5,hxg6,fxg6,Bxe5,Qxe5,Bxg6+', 'hxg6,Rxh8+,Qxh8', 'https://lichess.org/training/C8MSA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8mu0', 'Blitz', 'FM SpeedMonkey', 2511, 'Ozuna1179', 2161, 'e4,c5,Nc3,Nc6,Bb5,g6,Bxc6,dxc6,f4,Bg7,Nf3,Nf6,O-O,O-O,d3,b6,Qe1,Nd7,Qh4,e6,Qh3,c4,f5,exf5,Bg5,Qc7,Bh6,Ne5,Bxg7,Nxf3+,Rxf3,Kxg7,exf5,f6,Raf1,cxd3,cxd3,Bd7,Ne4,Rae8,Qh4,Bxf5,Rxf5,gxf5,Rxf5,Rxe4,Qxe4,Qd7,Rh5,Kh8,h3,Re8', 'Rxh7+,Qxh7,Qxe8+', 'https://lichess.org/training/C8mu0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8nll', 'Rapid', 'Y-N', 1652, 'Jerry_Handsome', 1666, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nf6,d3,O-O,Bg5,h6,Bh4,Be7,Nd5,d6,a4,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,a6,c3,b5,axb5,Nxb5,Bxb5,axb5,Rxa8,Qxa8,Nxc7,Qb7,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/C8nll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c8pgu', 'Blitz', 'yezen', 1518, 'GenGGedMan', 1607, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,cxd4,cxd4,Nc6,Nf3,Nge7,c4,Nf5,Bg5,f6,exf6,gxf6,Ne5,fxg5', 'Qh5+,Ke7,Qf7+,Kd6,c5#', 'https://lichess.org/training/c8pgu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8qbO', 'Rapid', 'magaknus', 1772, 'FALINCITO', 1655, 'e4,c5,Nf3,g6,c3,d5,exd5,Qxd5,d4,Bf5,Bd3,Bxd3,Qxd3,c4,Qe2,Nc6,O-O,Bg7,Re1,e6,Nbd2,b5,a4,Nge7,axb5,Qxb5,Nxc4,O-O,Nd6,Qxe2,Rxe2,Rfd8,Nb7,Rd7,Nc5,Rdd8,Bf4,Nd5,Be5,Nxe5,Nxe5,Nf4,Re4,Nd5,Nc6,Rdc8,Rxa7', 'Rxa7,Nxa7,Ra8', 'https://lichess.org/training/C8qbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c8qFl', 'Classical', 'sezginonline', 2007, 'Crusader1985', 1959, 'Nf3,c5,c4,d6,b3,Bg4,Bb2,Bxf3,exf3,e5,f4,Nc6,fxe5,Nxe5,d4,cxd4,Qxd4,Qe7,Be2,Nf6,O-O,O-O-O,Qxa7,Nc6,Qe3,Qxe3,fxe3,Re8,Bxf6,gxf6,Bg4+,Kc7,Rxf6,Rxe3,Rxf7+,Be7,Na3,h5,Nb5+,Kb6,Bf3,h4,Rd1,h3,Bxc6,bxc6,Nxd6,Bxd6,Rxd6,hxg2,Rf2,Re1+,Kxg2,Rg8+,Kf3,Rf8+,Kg3', 'Rg1+,Rg2,Rg8+', 'https://lichess.org/training/c8qFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8R6A', 'Rapid', 'BasharMansour', 1945, 'McQueenOse', 1999, 'e4,e5,Nf3,Nf6,d3,Nc6,c3,d5,exd5,Nxd5,Be2,Bg4,h3,Bh5,a3,a5,c4,Nf6,O-O,Bc5,Nc3,O-O,b3,Rb8,Na4,Ba7,c5,Re8,Bb2,Nd4', 'Nxd4,exd4,Bxh5', 'https://lichess.org/training/C8R6A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c8Rx4', 'Rapid', 'Sholokhovmihail', 1700, 'Joseriveram', 1688, 'd4,d5,c4,Bg4,Nf3,Bxf3,exf3,Nf6,Nc3,e6,Bf4,Bb4,Bd3,O-O,O-O,Bxc3,bxc3,Nbd7,cxd5,Nxd5,Bd2,N7f6,Rc1,Rc8,Be4,c5,c4,Nxe4,fxe4,Nb6,Ba5,Qxd4,Qxd4,cxd4,Bxb6,axb6,Rfd1,Rfd8,f3,e5,Rb1,Rc6,Rb5,f6,Kf2,Kf7,Rb4,Rdc8,Rc1,Ra8,a4,Ra5,g4,Ke6,h4,g5,h5,h6,Ke2,Kd6,Kd3,Kc5,Rb5+,Rxb5', 'cxb5+,Kd6,bxc6', 'https://lichess.org/training/c8Rx4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c8vGL', 'Rapid', 'letabac', 1861, 'snovapampa', 1737, 'e4,e6,d4,b6,Nf3,Bb7,Bd3,Nf6,Nbd2,c5,c3,cxd4,cxd4,Bb4,Qe2,d5,e5,Ne4,O-O,Nxd2,Bxd2,Bxd2,Nxd2,Nc6,Nf3,O-O,Rac1,Nb4,Bb1,Ba6,Qd2,Bxf1,Rxf1,Nc6,Qc2,g6,Qxc6,Rc8,Qa4,f5,Qxa7,g5,g3,h5,h4,Rf7,Qa3,gxh4,Nxh4,Rg7,Kh1,f4,Qf3,Qg5,Qxf4,Qxf4,gxf4,Rg4,Ng6,Kg7,Rg1', 'Rxg1+,Kxg1,Rc1+', 'https://lichess.org/training/c8vGL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c8vPv', 'Classical', 'billik6464', 2181, 'Chairmansclub', 2194, 'e4,c5,Nf3,d6,c3,Nf6,Be2,Nc6,d4,Nxe4,d5,Bd7,dxc6,Bxc6,O-O,e6,Nbd2,Nf6,a4,Be7,Bb5,Qc7,Re1,O-O,Bxc6,bxc6,h3,d5,Nf1,Bd6,Bg5,Ne4,Be3,Rab8,Qc2,c4,Ng5,Nf6,Bd4,e5,Be3,h6,Nf3,Rb3,Nh4,Rfb8,Ra2,Qb7,Nf5,Bf8,Re2,c5,Bc1,Qc7,Qd1,d4,N1g3,Nd5,Ne4,d3,Re3,Nxe3,Bxe3,Rxb2,Rxb2,Rxb2,Qg4,g6,Bxh6,Bxh6,Nxh6+,Kg7,Qg5,Qd7,Qf6+,Kf8,Nxc5,Rb1+,Kh2,Qe7', 'Qh8#', 'https://lichess.org/training/c8vPv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8X68', 'Blitz', 'wared', 2106, 'MWK97', 2055, 'e4,c5,Nc3,g6,Bc4,Nc6,f4,Bg7,Nf3,e6,O-O,Nge7,Qe1,d5,exd5,exd5,Nxd5,O-O,Nxe7+,Nxe7,Ne5,Bxe5,Qxe5,Nc6,Qc3,Bf5,Kh1,Nd4,d3,b5,Bb3,Rc8,a3,a5,Ba2,Qh4,Be3,Ne2,Qe1,Qh5,Rf2,Nd4,Bxd4,cxd4,Re2,Bg4,Rf2,Rfe8,Qxa5,Qh4,g3,Qh5,Kg2,Bh3+,Kg1,Re2,Qa7,Rxf2', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/C8X68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8z1D', 'Rapid', 'gambitter97', 1724, 'xalax', 1708, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Bg4,d4,exd4,cxd4,Bxf3,gxf3,Nf6,Qb3,Qe7', 'Qxb7,Rb8,Qxc6+', 'https://lichess.org/training/C8z1D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c8ZsD', 'Rapid', 'jjjamelb', 1754, 'karunada', 1790, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,d6,Bb5,Bd7,Ne2,a6,Ba4,b5,Bb3,Nf6,Ng3,Be7,a3,O-O,O-O,Re8,Nc3,Bc8,Nd5,Nxd5,Bxd5,Bb7,Nf5,Bf6,c3,Rb8,Qg4,Ne7,Nh6+,Kf8,Nxf7,Qd7,Be6,Qc6,f3,Bc8,Nh6,Bxe6,Qxe6,gxh6,Bxh6+,Bg7', 'Qf6+,Kg8,Qxg7#', 'https://lichess.org/training/c8ZsD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C8zt2', 'Classical', 'thebody', 1865, 'MoldyDolphin', 1895, 'e4,e6,d4,d5,e5,c5,Qg4,cxd4,Nf3,Ne7,Bd3,Nf5,Bxf5,exf5,Qxd4,Nc6,Qc3', 'Bb4,O-O,Bxc3', 'https://lichess.org/training/C8zt2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C90gl', 'Blitz', 'Rogerdat2020', 2077, 'IM DeandraChess', 2287, 'e4,e6,d3,b6,g3,Bb7,Bg2,f5,h3,Nf6,Ne2,Be7,Nbc3,Bb4,O-O,O-O,a3,Be7,e5,Nd5,Kh2,Nxc3,Nxc3,Bxg2,Kxg2,Nc6,f4,d6,d4,dxe5,dxe5,Bc5,Qxd8,Raxd8,Rd1,Nd4,Rd2,Rd7,Na4,Rfd8,Nxc5,bxc5,c3', 'Nb3,Rxd7,Rxd7', 'https://lichess.org/training/C90gl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C91hK', 'Rapid', 'mohdmed13972702', 1985, 'aykut588', 1925, 'e4,c6,f4,d5,e5,Bf5,Nf3,Nh6,d4,e6,Be2,Be7,O-O,f6,c4,O-O,Nc3,fxe5,fxe5,Nf7,a3,Ng5,b4,Ne4,Nxe4,Bxe4,c5,Nd7,a4,Rf5,Nd2,Rxf1+,Qxf1,Bg6,Bg4,Nf8,Nf3,h5,Bh3,Qd7,Ng5,Bxg5,Bxg5,Nh7,Bh4,Rf8,Qe2,Bf5,Qxh5,Bxh3,gxh3,Qf7,Qxf7+,Rxf7,Rf1,Rxf1+,Kxf1,g5,Bg3,Kf7,Kf2,Kg6,Kf3,Kf5,b5,Nf8,b6,a6,a5,Ng6,Ke3,Ne7,Kf3,Kg6,Kg4,Nf5,Bf2,Nh6+,Kg3,Kf5,Kf3,g4+,hxg4+,Nxg4,Bg3,Nh6,h3,Nf7,Bh4,Nh8,Bf6,Ng6,h4,Nf4,Bg5,Nd3,Bd2,Nb2,h5,Nc4,Be1,Kg5,h6,Kxh6,Kg4,Ne3+,Kh4,Kg6,Bd2', 'Nf5+,Kh3,Nxd4', 'https://lichess.org/training/C91hK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c96gg', 'Rapid', 'kave_man', 1841, 'zlocca', 1817, 'd4,c5,Nf3,cxd4,Nxd4,e6,Nc3,Qf6,Ndb5,Bc5,Ne4,Bxf2+,Nxf2,Na6,Nd6+,Ke7,h4,Nh6,Bg5,Qxg5,hxg5,Nf5,e4,Nxd6,Bxa6,bxa6,Qf3,Bb7,O-O-O,Rac8,Ng4,Bxe4,Qa3', 'Rxc2+,Kb1,Rc3+,Ka1,Rxa3', 'https://lichess.org/training/c96gg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C98Tm', 'Blitz', 'Fenir', 1813, 'Exi1e', 1820, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,Qa5,a3,Nf6,e5,Nd5,d4,Be7,O-O,O-O,Bb3,Qc7,Bc2,Re8,Qd3,g6,Bg5,Bf8,Nh4,cxd4,cxd4,d6,f4,dxe5,fxe5,Bg7,Nc3,Nxc3,bxc3,b6,Bf6,a5,Qe3,Bf8,Qg3,Ba6,Rf3,Ra7,Qg4,Be2,Raf1,Bxf1,Kxf1,Nb8,Rh3,Nd7,Nf3,Nxf6,exf6,Qc4+,Kf2,h6', 'Bxg6,fxg6,Qxg6+', 'https://lichess.org/training/C98Tm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C998L', 'Rapid', 'Mees20', 1674, 'unstoppablecarrot', 1707, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,Qd3,Nxc3,bxc3,d5,cxb4,dxc4,Qxc4,Qe7+,Kd1,Nxb4,Re1,Be6,Rxe6,fxe6,Bg5,Qd6,Qb5+,Nc6,Qxb7,Rb8,Qa6,Rb6,Qc8+,Nd8,Bxd8,Qxd8,Qxd8+,Kxd8,Ne5,Ke7,Rc1,Rc8,Nc6+,Kf6,Nxa7,Rd8,Nc6,Rd6,d5,Rxd5+,Ke2,Rb2+,Ke3,Rdd2,Rc4,Rxa2,Rf4+,Kg6,Ne5+,Kh5,g4+,Kh4', 'Nf3+,Kh3,Nxd2', 'https://lichess.org/training/C998L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9B2L', 'Rapid', 'hamdankummil', 1616, 'hm44', 1618, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,c3,Bg4,Nf3,Nxe4', 'Qa4+,Nc6,Qxe4', 'https://lichess.org/training/c9B2L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9b6F', 'Blitz', 'Enis_Metinn57', 2292, 'pacodelozano', 2295, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Be7,Bf1,O-O,d4,Bf6,Bf4,Nf5,c3,d6,Nxc6,bxc6,Nd2,Rb8,Qc2,Ne7,Bd3,g6,Bh6,Re8,Ne4,Bh8,Bg5,Bf5,Nf6+,Bxf6,Bxf6,Bxd3,Qxd3,Qd7,b3,Nd5,Bh4,Nf4,Qf3,Nh5,g4,Ng7,Bf6,Re6,Rxe6,fxe6,Qg3,Rf8,Bg5,Qf7,Re1,Ne8,Bh6,Ng7,Kg2,Qf6,h4,Re8,Re4,e5,dxe5,dxe5,Bg5,Qd6,Qe3,Qd5,c4,Qd6,f4,Qd7,fxe5,Rf8,e6,Qd1,e7,Qf1+,Kg3,Re8,c5,Qf7,b4,Qd5,Qb3,Qxb3+,axb3,Kf7,Rf4+,Ke6,Re4+,Kf7,Re3,Kg8,Kf4,Kf7,h5', 'Ne6+,Rxe6,Kxe6,hxg6,hxg6', 'https://lichess.org/training/C9b6F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9BpK', 'Rapid', 'Maglord2', 1830, 'chess_Leo', 1823, 'e4,e6,Nf3,d5,exd5,exd5,d4,c6,Nc3,Bd6,Bg5,Ne7,Qd3,h6,Bh4,O-O,O-O-O,Bf4+,Kb1,Bf5,Bxe7,Bxd3,Bxd8,Bxf1,Rhxf1,Rxd8,Rfe1,Nd7,g3,Bc7,Re2,Nf6,Re7,Bd6,Rxb7,Rdb8,Rxb8+,Rxb8,Re1,Bb4,Kc1,Bxc3,bxc3,Ne4,Ne5,Nxc3,Nxc6,Rb1+,Kd2,Rxe1,Kxe1,Nxa2,Nxa7,Nb4,Kd2,Kf8,c3,Na6,Nc6,Nc7,Kd3,Ke8,c4,dxc4+,Kxc4,Kd7,Ne5+,Ke6,f4,f6,Nc6,Nd5,Nb4,Nxb4', 'Kxb4,Kd5,Kc3', 'https://lichess.org/training/c9BpK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9BVc', 'Rapid', 'shorty1x1', 1676, 'Serame75', 1648, 'd4,d5,c4,dxc4,e4,b5,a4,c6,axb5,cxb5,Nc3,Bd7,Nf3,e6,Ne5,f6,Qh5+,g6,Nxg6,hxg6,Qxg6+,Ke7,e5,Qe8,exf6+,Nxf6,Qg5,Rh5,Qe3,Qg6,g3,Bc6,d5,Bxd5,Nxd5+,Nxd5,Qf3,Rf5,Qg2,Re5+,Be2,Qd3,Qf1,Nc6,Bf4,Nxf4,gxf4,Re4,Rd1,Qc2,Rd2,Qc1+,Rd1,Qxb2,Rd2,Qc3,Qg2,Qc1+,Rd1,Qc3+,Rd2,Rxf4,Qxc6,Rd4', 'Qc5+,Kf6,Qxd4+,Qxd4,Rxd4', 'https://lichess.org/training/C9BVc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9cGO', 'Rapid', 'robotech', 1855, 'WhatAShame', 1828, 'e4,d6,d4,Nf6,Nc3,c6,f4,Qa5,Nf3,e5,Bd3,exd4,Nxd4,g6,O-O,Bg7,f5,O-O,fxg6,hxg6,Nf3,Bg4,h3,Bxf3,Rxf3,Nbd7,Rg3,Ne5,Kh1,Nh5,Rg5,Bf6,Rxh5,gxh5,Qxh5,Qd8,Bh6,Bg7,Rf1,f6,Nd1,Qe8,Qh4,Qg6,Bd2,b5,Ne3,Kf7,Nf5,Rh8,Qf2,Ke6,b3,Rh7,Be2,Rah8,h4,Ng4,Qxa7,Rxh4+,Nxh4,Rxh4+,Kg1,Qxe4,Bxg4+,Rxg4', 'Re1,Rxg2+,Kf1', 'https://lichess.org/training/C9cGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9Dbi', 'Rapid', 'Kanbera', 1710, 'MikZar', 1757, 'd4,e6,e3,Ne7,c4,b6,Bd3,Bb7,Nf3,Ng6,O-O,Be7,Nbd2,O-O,b3,Na6,a3,d5,Bb2,dxc4,bxc4,c5,Qc2,cxd4,exd4,Bf6,Ne4,Be7,Qc3,f6,Rfd1,Nf4,Kh1,Nc7,Rac1,Rc8,a4,a5,Qd2,Nxd3,Qxd3,Bxe4,Qxe4,Qd7,c5,Qxa4,cxb6,Nd5,Rxc8,Qxd1+,Ne1,Kf7,Rxf8+,Bxf8,g3,Bb4,Kg2,Qxe1', 'Qxe1,Bxe1,b7', 'https://lichess.org/training/C9Dbi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9DpS', 'Blitz', 'Asephidayat', 1967, 'guacanoloc', 2051, 'c4,f5,Nc3,Nf6,Nf3,Nc6,g3,b6,Bg2,Bb7,O-O,e6,b3,Bb4,Bb2,O-O,Rc1,a5,a3,Bxc3,Bxc3,h6,d3,d6,e4,fxe4,dxe4,Nxe4,Re1,Nxc3,Rxc3,Qf6,Rce3,Ne5,Nxe5', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/c9DpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9Gja', 'Blitz', 'MagicRain', 1883, 'jajogluck', 1919, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,Nc6,Be2,Bg4,O-O,O-O-O,Be3,e6,a3,Qh5,h3,Bxh3,gxh3,Qxh3,Nh2,h5,Bf3,Bd6,Re1,Bxh2+,Kh1,Bg3+,Kg1,Qh2+,Kf1,Be5,Ne2,Ng4,c3,Nxe3+,fxe3,g5,Ng1,g4,Re2,Qh4,Bxc6,bxc6,Qc2,Bg3,e4,f5,e5,f4,Qb3,Kd7,c4,f3,Rd2,f2,d5,fxg1=Q+,Kxg1,exd5,cxd5,Bxe5,dxc6+,Ke7,Qb4+,Rd6,Rxd6,Bxd6,Re1+,Kf7,Rf1+,Kg6,Qe4+,Kg7,Qd4+,Kh7', 'Rf7+,Kg6,Qg7#', 'https://lichess.org/training/c9Gja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9hLZ', 'Blitz', 'DerAlteOs', 1885, 'NuhT', 2085, 'd4,Nf6,Nf3,c5,e3,d5,dxc5,Nc6,c4,e6,cxd5,Nxd5,Be2,Bxc5,O-O,O-O,Na3,a6,Nc2,b5,Ncd4,Bb7,a4,Nxd4,Nxd4,b4,Nb3,Ba7,Bd2,Qf6,Na5,Qe7,Nxb7,Qxb7,Bf3,Qe7,Qb3,Rfd8,Rfd1,a5,Be1,Qg5,e4,Nf4,Rxd8+,Rxd8,Rd1,Rxd1,Qxd1,g6,Qd7,Bc5,Qc8+,Kg7,h4,Qe5,h5,Nd3,Bd2,gxh5,Qd8,Nxf2,Kf1,Nxe4', 'Bxe4,Qxe4,Qg5+,Qg6,Qxc5,Qd3+,Ke1', 'https://lichess.org/training/C9hLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9Hxf', 'Blitz', 'Muzard', 1928, 'WFM DianaMirza', 1914, 'd4,g6,c4,Bg7,Nc3,d6,Nf3,e5,dxe5,dxe5,Qb3,Nc6,e4,Nd4,Qd1,Ne7,Bg5,h6,Bh4,g5,Bg3,O-O,Bd3,Nxf3+,Qxf3,Be6,Rd1,Qd4,O-O,Bxc4,Ne2,Qc5,Rc1,Qb5,Bxc4,Qxb2,Nc3,c6,Rb1,Qa3,Rxb7,Ng6,Rxf7,Rxf7,Qxf7+,Kh7,Ne2,Rf8,Qc7,Qa4,Bb3,Qxe4,Nc3,Qd3,Qxc6,Rf6,Qc7,e4,Nd5,Rf8,Rc1,Nf4,Bxf4,gxf4,Ne7,Qd2,Rd1,Qe2,Nd5,e3,f3', 'Qf2+,Kh1,e2', 'https://lichess.org/training/C9Hxf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9I2K', 'Rapid', 'cumberbetch', 1803, 'Tomo1112', 1826, 'e4,e6,d4,Bb4+,Nc3,Ne7,Bg5,f6,Bh4,O-O,Bd3,d5,f3,Nd7,Ne2,c6,O-O,Ng6,Bg3,Bxc3,bxc3,dxe4,fxe4,e5,Qd2,Qb6,Kh1,Qa5,Bc4+,Kh8,Qd3,Nb6,Bb3,Bg4,h3,Bxe2,Qxe2,Qxc3,dxe5,Nxe5,Rad1,c5,Bxe5,Qxe5,Bd5,Rab8,Rf5,Qe7,Rh5,f5', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/c9I2K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9JlX', 'Blitz', 'Vishnu_V_S', 1769, 'JosephCoburn', 1789, 'd4,d5,Bf4,c6,Nf3,e6,e3,Bd6,Bg3,Nf6,c3,O-O,Bd3,a6,Nbd2,Qc7,Qc2,Nbd7,Ng5,h6,Ngf3,b5,a3,a5,O-O,Bxg3,hxg3,Ba6,e4,dxe4,Nxe4,b4,axb4,Bxd3,Qxd3,axb4,Rfe1,bxc3,bxc3,c5,Nxc5,Nxc5,Qc4,Na6,Qb5,Rfb8,Qd3,Rb6,Ne5,Rab8,Rxa6,Rxa6,Qxa6,Qxc3,Rd1,Qb3,Rf1,Qb6,Qa3,Qb4,Qa7,Qb7,Qc5,Rc8,Qa3,Qd5,Qa7,Rf8,Qc5,Qxc5,dxc5,Rc8,Rc1,Ne4,c6,f6,Nd3,Kf7,Nb4,Ke7,Kf1,Nd6,Ke2,Nb5,Kf3,g5,Na6,Nd4+,Ke3,Rxc6,Rxc6,Nxc6,Nc5,Kd6,Nd3,Ne5,Nxe5,Kxe5,g4,f5,gxf5,exf5,g3,g4,f3,h5,f4+,Kd5,Kd3,Kc5,Kc3,Kd5,Kd3,h4,gxh4,g3,Ke2,Ke4', 'h5,g2,Kf2,Kxf4,h6,g1=Q+,Kxg1', 'https://lichess.org/training/C9JlX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9jwy', 'Classical', 'defendorius', 1600, 'thomascoleman', 1653, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nc3,g6,Be3,Bg7,Qd2,a6,Nxc6,bxc6,Ba4,Rb8,Rb1,c5,Bxd7+,Qxd7,b3,Nf6,Rd1,Ng4,Bxc5,O-O,h3,Ne5,f4,Nc6,e5,Rfe8,O-O,Rbd8,Bb6,Rb8,Nd5,Rb7,Bf2,Qf5,exd6,exd6,Rfe1,Rxe1+,Rxe1,a5,c3,Qd7,Bh4,Kh8,Bf6,Bxf6,Nxf6,Qf5,Re8+,Kg7,Nd5,Qb1+,Kh2,a4,Rc8,axb3,Rxc6,bxa2,Qd4+,Kh6,f5,a1=Q,Qh4+,Kg7,Qf6+,Kh6', 'Qh4+,Kg7,f6+,Kh8,Rc8#', 'https://lichess.org/training/C9jwy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9kd5', 'Rapid', 'TrickyMorphy', 1970, 'Igorbur', 2051, 'f4,d5,Kf2,c5,d3,Nc6,Nf3,Nf6,h3,Qc7,Nc3,e5,e4,dxe4,dxe4,Be7,Bb5,O-O,Bxc6,Qxc6,Nxe5,Nxe4+,Kf3,Nxc3+', 'Nxc6,Nxd1,Nxe7+', 'https://lichess.org/training/C9kd5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9keM', 'Blitz', 'tolveig', 1701, 'c0rrupt', 2073, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,cxd4,cxd4,f6,exf6,Nxf6,O-O,Bd6,Nf3,Qc7,Re1,O-O,Ng3,Bd7,h3,Bxg3,fxg3,Qxg3,Bg5,Nh5,Bh4,Qd6,Ne5,Nf4,Bc2,Rae8,Rc1,Nxe5,dxe5,Qb6+,Kh2,Bc6,Qg4,d4,Be4,Bxe4,Rxe4,Qxb2,Rc7,Ng6,Rxd4,a6,Bf6,gxf6,exf6,Rxf6,Qh5,Re7,Rc8+,Kg7,Rg4,Rf2', 'Rxg6+,hxg6,Qh8+,Kf7,Rf8#', 'https://lichess.org/training/C9keM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9ksi', 'Rapid', 'Orang-Utan-123', 1723, 'Mc_Muffin', 1770, 'b4,d5,c4,d4,g3,e5,Bg2,c5,bxc5,Bxc5,Ba3,Bxa3,Nxa3,a6,Rb1,Nc6,Qb3,Nf6,Nf3,O-O,O-O,Be6,Ng5,Na5,Qc2,Rb8,Nxe6,fxe6,d3,Qe7,Qa4,Nc6,Rfc1,Rfc8,c5,Nd8,Qc4,Qd7,Rb2,Nd5,Nb1,b6,Bxd5,exd5,Qb3,bxc5,Qxb8,Rxb8,Rxb8,Qd6,Rc8,Kf7,R8xc5,Ne6,Rc6,Qb4,Kg2,e4,dxe4,dxe4,R6c4,Qb2,a3,Qxe2,R1c2,Qd1,Nd2,e3,fxe3,dxe3,Nf3,e2,Rc1,Qd3', 'Ne5+,Kf6,Nxd3', 'https://lichess.org/training/c9ksi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9l78', 'Rapid', 'Romviksv', 1882, 'almrio2012leon', 1885, 'e4,Nc6,d4,d5,e5,g6,Nf3,Bg7,c3,e6,Ng5,f5,exf6,Nxf6,Bd3,O-O,O-O,h6,Nf3,Ne4,Nbd2,e5,Nxe4,dxe4,Bxe4,exd4,Bxg6,dxc3,Qb3+,Kh8,bxc3,Rxf3,gxf3,Bh3,Re1,Qf8,Be4,Re8,Re3,Qf6,Qd5,Rd8,Qxd8+,Qxd8,Rd3,Qf8,f4,Bf5,Bxf5,Qxf5,Rg3,Qc2,Be3,Qxc3,Rd1,Qf6,Rd7,b5,Rxc7,a5,Kg2,b4,Rc8+,Kh7,Bc1,Nd4,Bb2,a4,Rc4,Qb6', 'Rxg7+,Kxg7,Bxd4+,Qxd4,Rxd4', 'https://lichess.org/training/C9l78');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9LLN', 'Rapid', 'pjesak87', 2333, 'jrjs', 2172, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e5,d5,c6,Bxc4,b5,Bd3,b4,Na4,Qa5,b3,cxd5,Bg5,Be7,Nf3,Bg4,h3,Bxf3,Qxf3,d4,Rc1,Nbd7,O-O,O-O,Rc4,Nb6,Bxf6,Bxf6', 'Rc5,Qxc5,Nxc5', 'https://lichess.org/training/C9LLN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9lts', 'Rapid', 'janko-b34', 1663, 'Arif400', 1748, 'f4,Nc6,Nf3,d6,e3,Bg4,Be2,Bxf3,Bxf3,d5,d3,e5,O-O,Bc5,a3,exf4,d4,Bb6,Qe1,Qe7,c3,O-O-O,exf4,Qxe1,Rxe1,Kb8,b4', 'Nxd4,cxd4,Bxd4+,Kf1,Bxa1', 'https://lichess.org/training/c9lts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9lYQ', 'Rapid', 'MFerdo', 1884, 'tober2000', 1845, 'd4,f5,c4,Nf6,Nc3,g6,Bf4,Bg7,Nf3,O-O,e3,d6,Bd3,Qe8,O-O,Ng4,h3,e5,dxe5,dxe5,hxg4,exf4,exf4,fxg4,Re1,Qf7,Ne5,Qxf4,Nf3,gxf3,g3,Qh6,Bf1,Bh3,Re4,Bxf1,Qxf1,Nc6,Rh4,Qd2,Ne4,Qe2,Rb1,Qxf1+,Kxf1,Rae8,b4,Nd4,Rd1,Ne2,Rd7,Rf7,Rxf7,Kxf7,Ng5+,Ke7,Nxf3,h5,Re4+,Kd8,Rxe8+,Kxe8,Kxe2,Bc3,b5,c6,a4,Kd8,Kd3,Bf6,Ke4,Kc7,Ne5,Bxe5', 'Kxe5,g5,Kf5', 'https://lichess.org/training/c9lYQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9mNo', 'Rapid', 'kapfel', 2244, 'Defesafrancesa', 2258, 'c4,e6,g3,d5,Bg2,Nf6,Nf3,Be7,b3,O-O,Bb2,c6,O-O,Nbd7,e3,b6,Qe2,Bb7,Rd1,c5,d4,cxd4,Nxd4,Qc8,Nd2,dxc4,Nxc4,Bxg2,Kxg2,Qb7+,Kg1,a6,Rac1,Rac8,e4,Nxe4,f3,Nef6,Nxe6,fxe6,Qxe6+,Rf7,Bxf6,Nxf6,Ne5,Rf8,Nxf7,Rxf7,Rc8+,Bf8', 'Rxf8+,Kxf8,Rd8+,Ne8,Qxe8#', 'https://lichess.org/training/C9mNo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9mnv', 'Rapid', 'wolfie77', 1775, 'ziroki', 1884, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,Be2,Be7,O-O,Nf6,Ng5,O-O,d3,Nfd7,Qd2,Nc6,a3,f6,Nf3,Bd6,d4,cxd4,Nxd4,Nce5,Ne6,Qb6,Nxf8,Kxf8,Qc2,Kg8,Nd2,Qc6,Nf3,Nf7,Nd4,Qc7,g3,b6,Nf5,Bf8,Ne3,Bb7,Bf3,Qd6,Qd3,Nde5,Qd1,Rd8,Bg2,Ba6,Re1,Nd3,Bxd5,Nxe1,Bxf7+,Kxf7,Qxe1,Re8,Bd2,Qd3,Qd1,Rd8,Qb3+,Ke8,Rd1,Bb7,Qa4+,Kf7,Qc4+,Qxc4,Nxc4,Bc5,b4,Be7,Ne3', 'Bf3,Re1,Rxd2', 'https://lichess.org/training/C9mnv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9N1e', 'Blitz', 'IM Saparmyrat', 2520, 'Doenertello', 2508, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Qb6,Qd2,Nc6,O-O-O,Qxd4,Qxd4,Nxd4,Rxd4,Nd7,Be2,b5,Bf3,Bb7,Rhd1,f6,Bh4,Kf7,Ne2,Rc8,Kb1,Be7,Bf2,Rc7,R4d3,Rhc8,c3,Nc5,Bxc5,dxc5,e5,Bxf3,Rxf3,b4,c4,a5,Kc2,a4,Rfd3,Rb7,Rd7,Rcc7,Rxc7,Rxc7,Ng3,f5,Nf1,g5,g3,gxf4,gxf4,Bf8,Ng3,Ra7,Ne2,a3,b3,Ke8,Nc1,Rg7,Nd3,Rg2+,Rd2,Rxd2+,Kxd2,Kd7,Ke3,Kc6,Kf3,Bh6,Kg3,Kd7,Kh4,Bf8', 'Kg5,Ke7,Nxc5', 'https://lichess.org/training/c9N1e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9O3T', 'Rapid', 'sachin_s', 1627, 'ilteronat', 1624, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,a6,Bd3,d6,Bf4,Nf6,h3,g6,a3,Bg7,c3,O-O,Nf3,b5,Nd4,Nxd4,cxd4,Bb7,d5,Nd7,Nc3,Nc5,O-O,Nxd3,Qxd3,Rc8,Rac1,Rc4,Qe3,Re8,Bh6,Bd4,Qd2,e5,dxe6,Rxe6,Bg5,Qd7,Be3,Bxc3,Rxc3,Rxc3,Qxc3,Bxe4,Bd4,Re8,Re1,d5,Qe3,Re6,Qh6,f6,Qf4,Qe7,f3,g5,Qb8+,Kf7,fxe4,Rxe4,Rxe4,Qxe4,Qc7+,Kg6,Bc3,d4,Bb4,Qe3+,Kh2,d3,Qd7,Qf4+,Kh1,Qc1+,Kh2,Qf4+,Kg1,Qc1+,Kf2,Qc2+,Ke3', 'Qe2+,Kd4,d2', 'https://lichess.org/training/C9O3T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9PBJ', 'Rapid', 'gesta99', 1630, 'Interracial-Pawn', 1635, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,Bb4+,Bd2,Qb6,a3,Be7,Bc3,d5,exd5,exd5,Bd3,Nf6,O-O,O-O,Re1,Bg4,Be2,Ne4,a4,Bb4,Nfd2,Bxe2,Rxe2,Bxc3,bxc3,Rae8,f3,Nf6,Nb3', 'Rxe2,Qxe2,Qxb3', 'https://lichess.org/training/c9PBJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9uPd', 'Rapid', 'bor123', 1621, 'sirinyildiz', 1615, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Nc3,Nxe5,Nxe5,Qxe5,Qd5,Bd6,Be3,Ne7,Qe4,Qxe4,Nxe4,Bb4+,c3,Ba5,b4,Bb6,Bxb6,axb6,e3,O-O,Bd3,Nd5,O-O,f5,Ng3,Nxc3,Nxf5,d6,Ne7+,Kh8,Nxc8,Rfxc8,a3,c5,Rfc1,Na4,Be4,Rab8,bxc5,bxc5,Rc4,b5,Rc2,b4,axb4,Rxb4,Bf5,Rf8,Bd7,Nb6,Be6,Re8,Bg4,Rxg4,Rca2,h6,Ra6,Nc4,h3,Rge4,R1a4,Rd8,f3,Rh4,g3,Rxh3,Rxc4,Rxg3+,Kf2,Rg5,f4,Rh5,Rc1,d5,Ra5,c4,Rxc4,dxc4,Rxh5,c3,Rc5,Rd2+,Ke1,Rc2,Kd1,Rb2,Rxc3,Rb1+,Kd2,Rb2+,Kd3,h5,Rc2,Rxc2,Kxc2,h4,Kd2,Kh7,Ke2,Kg6,Kf3,Kf5', 'e4+,Kf6,Kg4', 'https://lichess.org/training/C9uPd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9vUF', 'Blitz', 'ML31', 2289, 'xonyk_17', 2086, 'Nf3,e6,g3,b6,Bg2,Bb7,O-O,f5,d4,Nf6,c4,Be7,Nc3,O-O,Bf4,d6,b4,Kh8,a4,h6,h4,Nbd7,a5,Rb8,Qd2,Ne4,Nxe4,fxe4,Ne1,Nf6,axb6,axb6,Nc2,Qe8,Ra7,Qh5,Rfa1,Rg8,Be3,g5,hxg5,hxg5,c5,Ng4,c6,Bxc6,Rxc7,Qh2+,Kf1,Nxe3+,Nxe3,Ra8,Qb2,Bf6,Rxc6,Rxa1+,Qxa1,Rg7,Rxd6,Rh7,Rxe6,Qh6,Bxe4,Rc7,Qa8+,Kg7,Re8', 'Rc1+,Nd1,Rxd1+,Kg2,Qh1#', 'https://lichess.org/training/c9vUF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9XRN', 'Classical', 'kenybigfoot', 1749, 'elcmello', 1752, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,a6,d3,h6,a4,Nc6,Be3,Nf6,O-O,b6,Ne2,d5,Ba2,dxe4,dxe4,Bb7,e5,Nd7,c3,Qc7,Bf4,Rd8,Qc2,Ncxe5,Rad1,Bxf3,gxf3,g5,Bg3,f5,Bxe6,Nxf3+,Kh1,Qc6,Bd5,Qf6,Bxf3,f4,Qe4+,Ne5,Bh5+,Ke7,Qb7+,Nd7,Qe4+,Ne5,Rxd8,Kxd8,Qa8+,Kc7,Qa7+,Kc6,Be8+,Kd5,Rd1+,Kc4,Qxa6+,Kb3,Qb5+,Kc2,Rc1+,Kd2,Bh5,Qc6+,Qxc6,Nxc6,Rg1,fxg3,Nxg3,Kc2,Ne4,Kxb2,Re1,Bg7,Re2+,Kb3,Bf7+,Kxa4', 'Ra2+,Kb5,Nd6#', 'https://lichess.org/training/C9XRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('c9YA2', 'Rapid', 'friendly06', 1895, 'tolanbus', 1879, 'e4,d6,Nf3,Nf6,Nc3,g6,Bc4,Bg7,d3,c6,a3,Nbd7,Ne2,Nb6,Ba2,e5,O-O,O-O,h3,d5,exd5,cxd5,Nxe5,Nfd7,Nxd7,Bxd7,d4,Bb5,Re1,Re8,c3,Re7,Ng3,Rxe1+,Qxe1,Qh4,Qe3,Re8,Qd2,Bc4,b3,Bb5,Kh2,Nd7,Qf4,Qf6,Be3,Bd3,Re1', 'Qxf4,Bxf4,Rxe1', 'https://lichess.org/training/c9YA2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('C9Z0m', 'Rapid', 'JE8778', 1821, 'Jensenpascual_26', 2155, 'e4,c6,d4,d5,exd5,cxd5,c4,dxc4,Bxc4,Nf6,Nf3,e6,Be3,Be7,Nc3,O-O,O-O,Bd7,h3,Bc6,Re1,Nbd7,Bb5,Bxb5,Nxb5,Qa5,Nc3,Rfc8,Rc1,Nb6,Ne5,Bb4,Rf1,Rd8,a3,Bd6,f4,Nbd5,Bd2,Qb6,Be1,Qxb2,Nxd5,Nxd5,Rb1,Qxa3,Rxb7,Rf8,Qh5,g6,Qh6,Qe3+,Kh1,Qxd4,Nd7,Rfd8,Ne5,Rf8,Bh4,Nxf4,Rxf4,Qxe5', 'Bf6,Qxf6,Rxf6', 'https://lichess.org/training/C9Z0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ca0Xh', 'Blitz', 'NM El_Nica', 2323, 'cbartolata', 2347, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,g6,Be2,Bg7,O-O,O-O,Re1,c5,dxc5,Nc6,c4,Ndb4,Na3,a6,Qb3,Be6,Rd1,Qc7,Bd2,a5,Bc3', 'a4,Qxb4,Nxb4', 'https://lichess.org/training/ca0Xh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CA2g1', 'Classical', 'sumitgupta', 1670, 'ekopp2000', 1671, 'e4,e6,Nf3,d5,e5,c5,c4,Nc6,cxd5,exd5,Bb5,Bd7,d4,Nxe5,Bxd7+,Nxd7,dxc5,Bxc5,Qxd5,Qa5+,Bd2', 'Bxf2+,Kxf2,Qxd5', 'https://lichess.org/training/CA2g1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ca32s', 'Classical', 'tahagoli', 1711, 'readysteadygo', 1698, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bd6,Bd3,c5,dxc5,Bxc5,Bb5+,Bd7,Bg5,Bxb5,Nxb5,Qe7+,Qe2,Qxe2+,Kxe2,Na6,Rhd1,O-O-O,Kf1,Be7,Nxa7+,Kb8,Ne5,Rhf8,Nac6+,bxc6,Nxc6+,Kc7,Nxd8,Rxd8,Bf4+,Bd6,Bxd6+,Rxd6,a3,d4,b4,Ne4,Rd3,Nc3,Re1,Kd7,Re5,Nc7,Ra5,Ne6,Ra7+,Ke8,a4,Rd7,Rxd7,Kxd7,f4,f5,a5,Kc6,g3,Kb5,h3,Kxb4,a6,Kc4,a7,Nc7,g4,fxg4,hxg4,N3b5,Rh3,h6,g5,Nxa7,gxh6,gxh6,Rxh6,Nab5,f5,Kc3', 'Rc6+,Kd2,f6', 'https://lichess.org/training/ca32s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ca3Ox', 'Blitz', 'N5n7e9f7', 1934, 'VizzZZ', 1899, 'e4,f6,d4,Kf7,Bc4+,e6,f3,Be7,Ne2,g6,O-O,Kg7,c3,h5,Be3,Nh6,Nd2,b6,Qc1,Bb7,Re1,f5,Nf1,g5,exf5,Nxf5,Nfg3,Nxe3,Qxe3,h4,Ne4,d5,Nxg5,Bxg5,f4,Bf6,Bd3,Qg8,f5,exf5,Bxf5,Bc8,Rf1,Nc6,Qf4,Qf7,Qg4+,Kf8,Bxc8,Rg8,Qf5,Rg6,Be6,Qg7,Bxd5,Ne7,Qf3,Rd8,Be4,Rh6,Nf4,Rd6,Rf2,Kg8,Raf1,Bg5,Nd5,Ng6,Bxg6,Rhxg6,Ne3,Rde6,Nf5,Qf6,Qa8+,Kh7,Qc8,Qf7,Nxh4,Qxf2+,Rxf2', 'Re1+,Rf1,Be3+,Kh1,Rxf1#', 'https://lichess.org/training/Ca3Ox');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cA45T', 'Rapid', 'wacchess34', 1859, 'pawner85729', 1743, 'e3,e5,b3,d5,Bb2,Nc6,Bb5,Ne7,Nf3,a6,Bxc6+,Nxc6,Nxe5,Nxe5,Bxe5,c6,O-O,Qg5,f4,Qg6,c4,Bh3,Qf3,Bg4,Qg3,dxc4,bxc4,Bc5,h3,Bf5,Qxg6,hxg6,Bxg7,Rh7,Bf6,b5,d4,Bb6,c5,Ba5,Na3,Bd2,Rad1,Bxe3+,Kh2,Kd7,Rde1,Re8,Rf3', 'Bxf4+,Rxf4,Rxe1', 'https://lichess.org/training/cA45T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cA5A1', 'Rapid', 'IFedoros', 1897, 'Dikiy384', 1958, 'e4,c5,c4,e6,Nc3,Nc6,f4,Nge7,Nf3,d5,cxd5,exd5,e5,Be6,d3,g6,Be2,Bg7,O-O,Nf5,Nb5,a6,g4,axb5,gxf5,Bxf5,a3,Qd7,Nh4,O-O-O,Nxf5,gxf5,Kh1,Nd4,Bh5,Ne6,b4,d4,bxc5,Nxc5,Rg1,Rhg8,Bd2,Kb8,Qf3,Bh6,Bb4,Ne6,Bd6+,Ka8,a4,Rxg1+,Kxg1,b4,a5,Nxf4', 'a6,Qc6,axb7+,Kxb7,Ra7+,Kxa7,Qxc6', 'https://lichess.org/training/cA5A1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ca6Cq', 'Rapid', 'OnkelOnkel', 2014, 'DougfromVA', 1607, 'Nf3,d5,c4,c6,g3,Bf5,cxd5,cxd5,Qb3,Qd7,Ne5,Qc8,Nc3,Nf6,Nxd5,Nxd5,Qxd5,e6,Qb5+,Nc6,Bg2,a6,Bxc6+,bxc6,Qxc6+', 'Qxc6,Nxc6,Be4', 'https://lichess.org/training/Ca6Cq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ca7OF', 'Rapid', 'miguelelmago', 1651, 'JPHasami', 1606, 'e4,e5,c4,Bc5,Nf3,Nc6,Qe2,Nd4,Nxd4,exd4,Qd3,Nf6,Be2,O-O,O-O,c6,a3,b5,b4,bxc4,Qxc4,Bb6,e5,Ne4,Bd3,d5,Qxc6,Be6,Bxe4,dxe4,Qxe4,Bd5,Qd3,Qg5,g3,Qh5,Nc3,dxc3,Qxd5,Rad8,Qc4', 'cxd2,Bxd2,Rxd2', 'https://lichess.org/training/ca7OF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ca7RT', 'Blitz', 'Aquilino21', 1946, 'Toshka2020', 2012, 'e4,c5,Nf3,e6,c3,Nc6,d4,cxd4,cxd4,d5,e5,Nge7,Nc3,a6,a3,Ng6,Bd3,Be7,O-O,O-O,Bc2,f5,exf6,Rxf6,Bg5,Rf8,Bxe7,Ngxe7,Qd3,g6,Rfe1,Nf5,Rad1,Qc7,Na4,Qf4,Nc5,Nh4,Nxe6,Bxe6,Rxe6,Nxf3+,Kh1,Nfxd4,Rxg6+,Kh8', 'Rg8+,Rxg8,Qxh7#', 'https://lichess.org/training/ca7RT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CA9BR', 'Rapid', 'piyush12356', 1703, 'Dim_Mid', 1716, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Qxd4,Qf6,Qd5,Qe6,Qd3,Qg6,Be3', 'Qxg2,Rg1,Qxf3', 'https://lichess.org/training/CA9BR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CA9VL', 'Rapid', 'Terrazas1961', 1794, 'outsidesankaku', 1895, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c3,Ne7,Bg5,Qb6,b4,a5,a3,axb4,cxb4,Ng6,Nc3,h6,Be3,Be7,Na4,Qc7,Be2,Nd7,Rc1,b5,Nc5,Rxa3,O-O,Nxc5,dxc5,Nxe5,Ra1,Nxf3+,Bxf3,Rxa1,Qxa1,Kd7,Qxg7,Rh7,Qd4,e5,Qb2,h5,h3,d4,Bc1,e4,Bd1,Rg7,g4,hxg4', 'Qxd4+,Kc8,Qxg7', 'https://lichess.org/training/CA9VL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CAC15', 'Blitz', 'Okino', 1647, 'Kaldren', 1653, 'd4,d6,c4,Bf5,Nc3,e6,Nf3,Nf6,Bf4,Be7,h3,O-O,g4,Bg6,e3,Nbd7,Bg2,c5,Nh4,cxd4,Nxg6,fxg6,exd4,Rc8,b3,Qa5,Qc2,Ne4,Bxe4,Rxf4,Bd3,Rxd4,O-O,Ne5,Be2,d5,Rfe1,dxc4,bxc4,Nxc4,Bxc4,Rcxc4,Rac1,Bb4,Re3,Bxc3,Rxc3,Rxc3,Qxc3,Rd1+,Kg2,Qd5+,f3,Qxa2+,Rc2,Qd5', 'Qc8+,Qd8,Qxe6+,Kf8,Rc8', 'https://lichess.org/training/CAC15');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cAcYF', 'Classical', 'Mdui', 2002, 'MorvinGera', 2008, 'e4,c5,Nf3,Nc6,Bc4,g6,a3,Bg7,d3,d6,Nc3,Bd7,O-O,Nf6,Bg5,Bg4,h3,Bxf3,Qxf3,Ne5,Qe3,Nxc4,dxc4,h5,e5,dxe5,Qxe5,b6,Rfe1,Kf8,Rad1,Qe8,Qc7,Rg8,Nd5,Qd8,Qb7,Nxd5,cxd5,f6,Bf4,g5,Bh2,Bh6,Rxe7,Qxe7,Qxa8+,Kf7,Qc6,Qe2,Qd7+,Kg6,Rf1,Re8,d6,g4,hxg4,hxg4,Qxa7,Bd2,d7', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/cAcYF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CAdyZ', 'Rapid', 'Vasya1989', 1646, 'ashrafamin73', 1646, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,a6,Bd3,b5,a3,c5,dxc5,Bxc5,O-O,O-O,Be3,Bd6,Bd4,Nc6,Ne2,Re8,h3,Be6,Ng5,h6,Nf3,Rc8,Re1,Nxd4,Nexd4,Qd7,Qd2,Bxh3,gxh3,Qxh3,Rxe8+,Rxe8,Re1,Rxe1+,Qxe1,Ng4,Qa5', 'Bh2+,Nxh2,Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/CAdyZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CaEfL', 'Classical', 'leopold2016', 1659, 'Jyzee', 1655, 'e4,c5,Bc4,a6,Bxf7+,Kxf7,Qh5+,g6,Qxc5,Bg7,Nf3,d6,Ng5+,Ke8,Qd5,Nf6', 'Qf7+,Kd7,Qxg7', 'https://lichess.org/training/CaEfL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cAEsk', 'Rapid', 'tuplicano', 1753, 'edicat', 1734, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,a3,a5,e3,h6,exd4,Bg4,Be3,Be7,Be2,f6,exf6,Nxf6,Nc3,O-O,h3,Bh5,O-O,Bf7,Rc1,Rc8,d5,Nb8,Nb5,Nbd7,Bd4,c5,Be3,b6,Na7,Rc7,Nc6,Qe8,Bf4,Rb7,Nxe7+,Qxe7,Re1,Qd8,Ne5,Nxe5,Bxe5,Re8,Bc3,Ne4,Bd3,Bg6,Qc2,Rbe7,f3', 'Nxc3,Qxc3,Rxe1+,Rxe1,Rxe1+,Qxe1,Bxd3', 'https://lichess.org/training/cAEsk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cafNl', 'Rapid', 'Kniepus', 1682, 'JaspherRed', 1864, 'e4,e6,d4,d5,exd5,Qxd5,Nf3,c5,c4,Qd6,Qa4+,Bd7,dxc5,Qxc5,Qc2,Nc6,Be3,Qa5+,Nc3,Bb4,Bd2,Nf6,a3,Bxc3,Bxc3,Qc7,Bxf6,gxf6,Bd3,h6,O-O,e5,h3,Rg8,Bf5,O-O-O,Rfd1,Be6,Rxd8+,Rxd8,Rd1', 'Rxd1+,Qxd1,Bxf5', 'https://lichess.org/training/cafNl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('caGU1', 'Rapid', 'saulroes20', 1806, 'AVR11', 1852, 'd4,e6,e3,d5,a3,c5,dxc5,Bxc5,Nf3,Qa5+,Nc3,Nc6,Bd2,Qd8,Be2,Nge7,h3,a5,O-O,Qb6,Na4,Qa7,Nxc5,Qxc5,Bc3,f6,Nd4,Nxd4,Bxd4,Qd6,Bd3,e5,Bc3,e4,Bb5+,Nc6,Qh5+,g6,Qh6,Qe7,Qh4,g5,Qh6,Rf8,Bd4,Bd7,Bxc6,bxc6,Qh5+,Rf7,b4,a4,Bc5,Qe5,Bd4,Qf5,c3,Ke7,Bc5+,Ke6,Rad1,Rg8,Qg4,Qxg4,hxg4,Ke5,f3,exf3,gxf3,Rh8,Rde1,h5,gxh5,Rxh5,Kf2,Rfh7,Ke2,Rh2+,Rf2,g4,Bd4+,Ke6,fxg4,c5,bxc5,Bb5+,Kf3', 'R7h3+,Kf4,Rxf2#', 'https://lichess.org/training/caGU1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cahKS', 'Rapid', 'Nub_Hensley', 1626, 'Dr_Marcus_Berry', 1618, 'e4,e6,Nf3,Ne7,d4,d6,Bg5,h6,Bh4,Nd7,Nc3,g5,Bg3,f5,exf5,exf5,Bc4,f4,O-O,fxg3,fxg3,Bg7,d5,O-O,Bd3,Bxc3,bxc3,Nxd5,Bc4,c6,Bb3,Kg7,Re1,Nxc3,Qd4+,Qf6,Qd3,Nc5,Qc4,Nxb3,axb3,d5,Qd4,Qxd4+,Nxd4,Bf5,Re7+,Kg6,Rxb7,c5,Nf3,Rfe8,h3,Bxc2,g4,Be4', 'Ra6+,Re6,Rxe6#', 'https://lichess.org/training/cahKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cahpf', 'Blitz', 'mightyvids', 1811, 'FM Mattidiot', 2303, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,e4,d6,Nge2,c5,d3,Nc6,O-O,Ne8,Be3,Nd4,Qd2,Nc7,Bh6,Bh3,Bxh3', 'Nf3+,Kg2,Nxd2', 'https://lichess.org/training/Cahpf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cai2G', 'Blitz', 'itsDranzer', 1905, 'sagid_molina', 1796, 'd4,g6,Bf4,Bg7,Nc3,d5,e3,Nf6,Be2,O-O,h4,c5,h5,cxd4,exd4,Nc6,hxg6,fxg6,Qd2,Bf5,Nf3,Qb6,O-O-O,Ne4,Nxe4,Bxe4,Bh6,Nb4,Kb1,Rfc8,Bxg7,Rxc2,Qh6,Rxb2+,Kxb2', 'Nd3+,Ka1,Qb2#', 'https://lichess.org/training/Cai2G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cak9g', 'Rapid', 'Omar-Alzain', 1990, 'Alsamh', 1607, 'e4,c6,d4,d5,e5,Bf5,c4,e6,Nc3,c5,cxd5,exd5,dxc5,Bxc5,Nf3,Nc6,Nxd5,Be6,Bc4,Bb4+,Bd2', 'Bxd5,Bxd5,Qxd5', 'https://lichess.org/training/cak9g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cakEk', 'Blitz', 'NM Oscar-Luna', 2204, 'AaronGT24', 2357, 'e4,c5,c4,Nc6,Nc3,g6,g3,Bg7,Bg2,d6,Nge2,e6,d3,Nge7,O-O,O-O,a3,Nd4,Rb1,a5,h3,Nec6,f4,f5,Be3,Rb8,Kh2,b6,Qd2,Bb7,Rf2,Qd7,Rbf1,Nb3,Qd1,Ncd4,Ng1,a4,Nf3,Bc6,Ng5,h6,Nf3,fxe4,dxe4,b5,cxb5,Bxb5,Nxb5,Qxb5,e5,d5,Nxd4,cxd4,Bxd4,Rfc8,Bc3,Qc4,Qb1,d4,Bb4,d3,Rd1,Rd8,Bd6,Nc5,Bxb8,Rxb8,Qc1,Qd4,Rfd2,Rb3,Qa1,Kh7,h4,h5,Qc1,Qe3,Re1,Qd4,Qd1,Rxb2,Rxb2,Qxb2,Qc1', 'd2,Qxb2,dxe1=Q', 'https://lichess.org/training/cakEk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cAL7f', 'Rapid', 'TimeskillHandyAcc', 1785, 'greatiraq', 1762, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,c5,Nf3,Bg4,Bb5+,Nc6,Bxc6+,bxc6,O-O,Be7,h3,Bh5,Re1,O-O,Qd3,Bg6,Bf4,d5,Qd2,dxe4,Qxd8,Raxd8,Ne5,Nh5,Nxg6,fxg6,Be3,Nf6,Bg5,h6,Bh4,g5,Bg3,Nh5,Be5,Bf6,Rxe4,Bxe5,Rxe5,Rd2,Rf1,Rf4,Rxc5,Rxc2,Na4,Rfc4,Rxc4,Rxc4,Nc3,Nf4,Rd1,Rb4,Rd7,Rxb2,Rxa7,Rc2,Ne4,Nd3,a4,Rc1+,Kh2,Rf1,a5,Nxf2,Nxf2,Rxf2,a6,Ra2,Ra8+,Kh7,a7,Kg6,Kg3,h5,Kf3,Kf7,g4,h4,Ke4,Ke7,Kf5,Ra5+', 'Kg6,Kd6,Rd8+', 'https://lichess.org/training/cAL7f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CAM9l', 'Rapid', 'viniciusbatcar', 1656, 'ArseniyDubrovin', 1824, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,e5,Qe6,Bc4,Qg6,Qf4,Bc5,O-O,d6,exd6,Bxd6,Re1+,Ne7,Rxe7+,Kxe7,Qe3+,Kd8,Nc3,Re8,Qg5+,Qxg5,Bxg5+,f6,Bh4,g5,Bg3,Bxg3,hxg3,Bf5,Rd1+,Bd7,Nd5,Rf8,Ne3,Ke7,Nd5+,Kd8,Ne3,c6', 'Be6,Ke7,Bxd7', 'https://lichess.org/training/CAM9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CamdX', 'Blitz', 'Nixuan', 2023, 'Yanyanl', 2004, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,c6,e3,Be7,Nf3,Ne4,Nxe4,dxe4,Bxe7,Qxe7,Nd2,f5,Be2,O-O,O-O,Bd7,c5,Qg5,Nc4,Na6,Ne5,Be8,Qb3,Nc7,Qxb7,Qd8,Nxc6,Bxc6,Qxc6,Rb8,b3,Rf6,Qa4,Ra8,b4,Nd5,Rac1,f4,Qb3,f3,Bc4,Rg6,Bxd5,Rxg2+,Kh1,Qh4,Bxe6+,Kh8,h3,Qg5,Qd5', 'Rh2+,Kxh2,Qg2#', 'https://lichess.org/training/CamdX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Camef', 'Rapid', 'FM MagzyPotato', 2571, 'itachi2007uchiha', 2400, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,O-O,f3,Nc6,Bc4,Bd7,O-O-O,Rc8,Bb3,Nxd4,Bxd4,b5,a3,a5,Nd5,Nxd5,Bxd5,Qc7,c3,b4,axb4,axb4,Bxg7,Kxg7,Qd4+,e5,Qxb4,Qa7,Qxd6', 'Qa1+,Kd2,Qxb2+', 'https://lichess.org/training/Camef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cAmUC', 'Rapid', 'BaldbbClimbing', 1729, 'olivier5', 1728, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qxe4+,Qe2,Qxe2+,Kxe2,Bg4,Re1,O-O-O,d4,Bxf3+,Kxf3,Nf6,Nc3,Bd6,Bg5,h6,Bxf6,gxf6,g3,Bb4,Rad1,f5,Kf4,Rhg8,Kxf5,Rg5+,Kf6,Rd6+,Kxf7,Rf5+,Kg7,Rg5+,Kh7,Kd8,Ne4,Bxe1,Rxe1,Rd7+,Kxh6,Rg8,Nf6,Rh8+,Kg5,Re7,Rxe7,Kxe7,h4,Rf8,Ng4,Ke6,h5,Rf5+,Kg6,Rf8,f4', 'Rg8+,Kh7,Rxg4', 'https://lichess.org/training/cAmUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CAoZW', 'Blitz', 'fancktol', 1958, 'JoseKasparov_2', 2000, 'e4,Nf6,d3,d6,Be2,g6,Bg5,Bg7,Qd2,c6,Bh6,O-O,Bxg7,Kxg7,h4,h5,f3,Nbd7,g4,hxg4,fxg4,Ne5,g5,Nfg4,Nc3,b5,h5,Rh8,h6+,Kh7,Nf3,Nxf3+,Bxf3,Ne5,Qf4,Be6,d4,Nxf3+,Qxf3,b4,d5,bxc3,dxe6,Qf8,exf7,cxb2,Rb1,Rb8,Rh2,e5,c3,Rb7,Rhxb2,Rxf7,Qd3,Qe7,Re2,Rd8,Qg3,Rdf8,Kd2,Rf4,Rbe1,Qe6,Kc1,Rg4,Qe3,Rf7,Kb1,Rb7+,Ka1,Rf4,Rb2,Qc8,Reb1,Rxb2', 'Qxa7+,Qb7,Qxb7+,Rxb7,Rxb7+', 'https://lichess.org/training/CAoZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cApdq', 'Rapid', 'sascha_m', 1700, 'welltohell86', 1854, 'e4,e5,Nc3,Nf6,g3,Nc6,Bg2,Bc5,Nge2,d6,O-O,O-O,d3,h6,a3,a5,Na4,Ba7,b3,Bd7,Bb2,Ne7,Nac3,Nh7,Kh1,Ng5,f4,exf4,Nxf4,f5,h4,Nh7,Nfd5,fxe4,Bxe4,Nxd5,Bxd5+,Kh8,Bxb7,Rb8,Be4,Nf6,Bg2,Ng4,Qe2,Ne3,Rxf8+,Qxf8,Be4,Bg4,Qd2,Bf3+,Kh2,Bxe4,Nxe4,Ng4+,Kg2,Ne3+,Kh3,Qf5+,Kh2,Ng4+,Kg2,Ne3+,Kh2,Nf1+,Rxf1,Qxf1', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/cApdq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('caPvI', 'Rapid', 'atashbarfa', 2151, 'fathi4850', 2015, 'd4,c5,dxc5,Nc6,c3,a5,e4,e5,Nf3,Bxc5,Bc4,Nf6,O-O,O-O,Bg5,d6,h3,Be6,Qb3,Bxc4,Qxc4,Rb8,Nbd2,b5,Qd3,h6,Bh4,Qe7,Kh1,Qe6,Bxf6,Qxf6,a4,b4,c4,Qe6,b3,f5,exf5,Qxf5', 'Qd5+,Qf7,Qxc6', 'https://lichess.org/training/caPvI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('caqLX', 'Rapid', 'mmnxmmnx', 1885, 'KingArthur16', 1870, 'd4,Nf6,Bf4,d6,e3,Bf5,Nf3,Nbd7,c4,g6,a3,Bg7,Bd3,Bxd3,Qxd3,O-O,Ng5,e5,dxe5,dxe5,Bg3,Re8,Qe2,e4,Nc3,Nc5,Rd1,Nd3+,Kf1,h6,Ngxe4,Nxe4,Nxe4,Rxe4,Rxd3,Qf6,Rd2,h5,Bxc7,Rc8,Ba5,Rexc4,Bc3,Qc6,Bxg7,Rc1+,Rd1,Kxg7,b4,Rxd1+,Qxd1,Qa6+,Kg1,Qxa3,Qd4+,Kg8,g3,Rc2,Qd8+,Kh7,Qe7,Qa2,Qf6,Rc1+,Kg2,Qd5+,e4,Qxe4+,Kh3,Rxh1,Qxf7+,Kh6,Qf8+,Kg5', 'f4+,Qxf4,Qxf4#', 'https://lichess.org/training/caqLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CAqw7', 'Rapid', 'torpeche', 1867, 'Mercuryjon', 1889, 'e4,c5,Nf3,d6,d3,Nc6,c3,g6,g3,Bg7,h3,e6,Bg2,Nge7,Bg5,O-O,Qd2,Re8,Bh6,Bh8,Nh2,Rb8,Ng4,d5,Qf4,f5,exf5,exf5,Ne3,d4,g4,dxe3', 'Qc4+,Qd5,Bxd5+', 'https://lichess.org/training/CAqw7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CAr3z', 'Classical', 'mostafa94ali', 1622, 'tolyaperelman', 1664, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,g6,e5,d5,Bf4,e6,Bd3,Bg7,O-O,Ne7,Re1,c5,Nb5,O-O,Nd6,c4,Be2,Bd7,Qd2,Nc8,Nxc8,Rxc8,Bf3,Qb6,Rab1,Qc6,Bg5,f6,Bxf6,Bxf6,exf6,Rxf6,Qg5,Rcf8,Bh5', 'Rf5,Qg3,Rxh5', 'https://lichess.org/training/CAr3z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cASjY', 'Rapid', 'NikolaiPovelitsa', 1608, 'Niels_H', 1775, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Be3,Nf6,Bd3,d5,f3,dxe4,fxe4,Bd6,Nd2,Qc7,Qe2,Bxh2,Nxc6,bxc6,Bc5,Bg3+,Kd1,Rb8,Ba3,Bd6', 'Bxd6,Qxd6,e5', 'https://lichess.org/training/cASjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cAskk', 'Rapid', 'Dhee_Dark_knight', 1952, 'redpointer', 1900, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,b4,Bb6,d3,d6,Bg5,h6,Bh4,O-O,h3,a6,O-O,Be6,Bb3,d5,exd5,Bxd5,Nbd2,Bxb3,Nxb3,Qd6,Bg3,Nd7,d4,Qe7,Re1,e4,d5,Nce5,Nxe5,Nxe5,Rxe4,f6,Nd4,Bxd4,cxd4,Qxb4,a3,Qc4,Re3,Nd7,d6,cxd6,Bxd6,Rfe8,Rc1,Qb5,Rb1,Qc6,Qb3+,Kh8,Bf4,b5,Rxe8+,Rxe8,d5,Qc4,Qxc4,bxc4,Rb7,Ne5,d6,Rd8,Rb6,Nd3,Bg3,c3,Rc6,Ne5,Rxc3,Rxd6,a4,Rd4,a5,Rd5,f4,Nd7,Rc8+,Kh7,Be1,Nc5,Rc6,Nd3,Bc3,Nxf4,Rxa6', 'Ne2+,Kf2,Nxc3', 'https://lichess.org/training/cAskk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cassc', 'Rapid', 'Spyd0rk', 1788, 'amy2016', 1662, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bg5,Be7,O-O-O,Bd7,Bc4,O-O,f4,Nh5,h4,Bg4,Rdg1,h6,Be2,Bxe2,Nxe2,f6,g4,fxg5,gxh5,Bf6,Qc4+,Kh8,hxg5,hxg5,f5,Qe7,h6,Qf7,hxg7+,Kxg7,Qd3,Rh8,Nf4', 'Rxh1,Rxh1,gxf4', 'https://lichess.org/training/Cassc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cAsZU', 'Rapid', 'knightmaress', 1754, 'sabermostafa', 1739, 'd4,d5,c4,c6,Nc3,e6,Nf3,Bb4,a3,Bxc3+,bxc3,dxc4,a4,b5,axb5,cxb5,e4,Bb7,e5,Ne7,Ng5,O-O,Qh5,h6,Nh3,Be4,f3,Bg6,Qg4,Nf5,Nf4,Nc6,Nxg6,fxg6,Qxg6,Qd7,g4,Nfxd4,cxd4,Nxd4,Kf2,Rxf3+,Kg2,Qd5,Kg1,Rxf1+,Kxf1,Qxh1+,Kf2,Rf8+,Ke3,Qg1+,Ke4,Qd1,Qxg7+,Kxg7,Bxh6+,Kxh6,Rxd1,Nb3,Rd6,Re8,Ra6,Re7,Rc6,b4,Kf4,c3,g5+,Kg6,h4,a5,Rc4,Nd2,Rc5,a4,Kg4,a3,h5+,Kg7,h6+,Kg6,Rc8,b3,Rg8+,Kh7,Rc8,c2,Rc3,Nb1,Rc4,a2,Kh5,a1=Q', 'g6+,Kh8,Rc8+,Re8,Rxe8#', 'https://lichess.org/training/cAsZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CAxkh', 'Classical', 'LankyLuke', 1914, 'Pikselpej9900', 1858, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,O-O,cxd5,exd5,Bd3,h6,Bf4,a6,Nf3,Nc6,O-O,Bb4,a3,Bd6,Ne5,Re8,Nxc6,bxc6,Bxd6,Qxd6,Na4,Nd7,Bf5,Nb6,Bxc8,Raxc8,Nc5,Nd7,b4,Nf6,Nxa6,Ne4,Nc5,Nc3,Qc2,Ne4,a4,Nxc5,bxc5,Qg6,Qxg6,fxg6,a5,Ra8,a6,Ra7,Ra2,Rea8,Rfa1,Kf7,f3,Kf6,Kf2,h5,g3,g5,e4,dxe4,fxe4,Rd8,Ke3,Kg6,h3,Rb8,Ra3,Rb2,Kd3,Rh2,Kc4,Rxh3,Rb1,h4,Rb7,Rxg3,Rxg3,hxg3,Rxa7,g2,Rb7,g1=Q,a7,Qa1,Rxc7,Qa6+,Kb3,Kf6,d5,cxd5,exd5,Qd3+,Kb4,Qxd5,Kb5,g4', 'Rc6+,Kg5,a8=Q,Qb3+,Ka6', 'https://lichess.org/training/CAxkh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CAZlV', 'Blitz', 'gangubai', 1728, 'mcnutty2581', 1757, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,Nf6,Nc3,Bb4,Bg5,h6,Bh4,O-O,a3,Ba5,b4,Bb6,b5,Na5,Bd3,d6,Nf3,g5,Bg3,a6,a4,axb5,axb5,Be6,O-O,c6,h3,cxb5,Nxb5,d5,exd5,Bxd5,Qb1,Nc6,Nd6,Rxa1,Qxa1,Qe7,Nf5,Qe6,Nxh6+,Kg7,Nf5+,Kh8,N3d4,Bxd4,Nxd4,Nxd4,Qxd4,Kg8,Be5,Nd7,Bh8,f6,h4,Kxh8,hxg5,Qe5', 'Qh4+,Kg7,Qh7#', 'https://lichess.org/training/CAZlV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CaZMr', 'Rapid', 'shah677', 1835, 'Anafalcon', 1886, 'd4,g6,c4,Bg7,e3,d6,h3,Nf6,Nf3,O-O,Bd3,Nc6,a3,Bd7,O-O,Qc8,Kh2,d5,Nc3,dxc4,Bxc4,Na5,Bd3,Bc6,e4,Bd7,d5,b6,Ne5,a6,Nxd7,Qxd7,Kg1,Nb7,Be3,Nc5,Bc2,Rad8,Qc1,Ne8,Bh6,Nd6,Bxg7,Kxg7,e5,Nf5,Qf4,e6,Rad1,Qe7,d6,cxd6,exd6,Nxd6,Rfe1,Qf6,Qg3,Nf5,Bxf5,Qxf5,b4,Nd3,Re4,Rd7', 'Rxd3,Rxd3,Qxd3', 'https://lichess.org/training/CaZMr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('caZXr', 'Rapid', 'bovid', 1657, 'josefmccrum', 1697, 'e4,c5,Nf3,e6,Nc3,d5,d3,d4,Ne2,Nc6,Bg5,Be7,Bxe7,Ngxe7,Nf4,O-O,Be2,g6,O-O,e5,Nd5,Nxd5,exd5,Ne7,c4,Qc7,a3,b5,b4,bxc4,dxc4,e4,Ng5,d3,Bg4,cxb4,Nxe4,Qxc4,Nf6+,Kg7,Qf3,Bxg4,Nxg4,Nf5,Rfc1,Qd4,axb4,Rac8,Rd1,d2,Rab1,Rfe8,b5,Qb4,Rxb4', 'Re1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/caZXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cb1v0', 'Rapid', 'TheFighteroo', 2269, 'pillopaido', 2426, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bf4,a6,e5,f6,Bd3,Bb4,O-O,fxe5,Nxe5,Nf6,Ne4,O-O,Nxf6+,Qxf6,Bxh7+', 'Kxh7,Qh5+,Kg8', 'https://lichess.org/training/Cb1v0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CB4bO', 'Blitz', 'FM Cellini', 2514, 'StoleLaf', 2561, 'e4,e5,Nf3,Nc6,Bb5,f5,Nc3,fxe4,Nxe4,d5,Nxe5,dxe4,Qh5+,g6,Nxg6,Nf6,Qe5+,Kf7,Nxh8+,Kg7,Bxc6,bxc6,d3,Kxh8,Bg5,Bg7,O-O-O,Bg4,f3,exf3,gxf3,Bxf3,Rhf1,Bxd1', 'Bxf6,Qxf6,Rxf6', 'https://lichess.org/training/CB4bO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cb6Vy', 'Blitz', 'koljou', 1815, 'Alim_24', 1698, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Bxf3,Bxf3,e6,c4,Nc6,Be2,dxc4,Bxc4,Qxd4,Qxd4,Nxd4,O-O,Nc2,Bb5+,Ke7,Bd2,Nxa1,Bb4+,Kf6,Bc3+,Kg6,Bd3+,f5,Nd2,Rd8,Nf3,Rxd3,Ne5+,Kh6,Nf7+,Kh5,Nxh8,Nc2,Nf7,Nd4,Ne5,Ne2+,Kh1,Rd5,f3,Nxc3,g4+,Kh4,f4,fxg4,bxc3,Nf6,Rg1,h5', 'Ng6+,Kh3,Rg3#', 'https://lichess.org/training/cb6Vy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cb6VZ', 'Blitz', 'MarcosGarciaMart', 2170, 'milmat', 2071, 'd4,d5,g3,Nc6,Bg2,h5,Nf3,h4,Nxh4,Bf5,Nxf5,e6,Ne3,Qf6,c3,O-O-O,Nd2,g5,Nf3,Qg7,Ng4,f5,Nge5,Nce7,Bxg5,Nf6,Qa4,Kb8,c4,Ne4,Bf4,Ng6,Nxg6,Qxg6,Ne5,Qg7,cxd5,exd5,Bxe4,fxe4,O-O-O,Bd6,Kb1,Rhf8,Qb5,Ka8,Qxd5,e3,Bxe3,Qh7+,Ka1,Rfe8,Qf3,Qc2,Rd2,Qa4,Rhd1,Bxe5,dxe5', 'Qxd1+,Rxd1,Rxd1+,Bc1,Rxc1#', 'https://lichess.org/training/Cb6VZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cB9O7', 'Classical', 'mo54', 1649, 'rahem', 1700, 'e4,e5,Nf3,Nc6,c4,Nf6,Nc3,Bc5,d3,O-O,Be2,d6,Nd5,Nxd5,cxd5,Nd4,Be3,Nxf3+,Bxf3,Bb4+,Bd2,Bc5,O-O,c6,Be3,Bxe3,fxe3,cxd5,exd5,Qb6,Qe2,Bf5,Kh1,Rac8,e4,Bd7,b3,Rc7,Bg4,Bxg4,Qxg4,Rfc8,Qf5,Qb5,Rad1,Qd7,Qf3,Rc2,Rf2,R8c3,h3,Qc7,Rdf1,Rxf2,Rxf2,f6,Rd2,Rc1+,Kh2,Qc3,Rf2,Qe1,Kg3,Ra1,Qh5,g6,Qf3,Rxa2,Qxf6,Qxf2+,Qxf2,Rxf2,Kxf2,b5,g4,g5,Ke2,b4,Kd2,Kf8,Ke3,Ke7,d4,Kf6,Kd3,Ke7', 'dxe5,dxe5,Kc4', 'https://lichess.org/training/cB9O7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CB9w2', 'Rapid', 'uttara', 2083, 'anwarmussar', 2098, 'e4,c5,Nf3,e6,d3,Nc6,Nbd2,b5,g3,Bb7,Bg2,d6,O-O,h6,Re1,e5,Nf1,Nf6,Ne3,Ne7,Nf5,g6,Nxe7,Qxe7,Bd2,Qc7,c3,Rd8,d4,cxd4,cxd4,Bg7,Rc1,Qb8,Qb3,a6,Ba5,Rd7,dxe5,dxe5,Qb4,Bf8,Qb3,Be7,Bc3,Bd6,Nh4,Qa7,Bh3,Re7,Ba5,Bc5,Re2,Bxe4,Rd1,Bd4,Qc3,O-O,Qc1,Kg7,Bb4,Rd8,Bxe7,Qxe7,Rde1,Bd3,Rd2,Bc4,b3,Be6,Bxe6,Qxe6,Rc2,Qg4,Kg2,g5,Nf3,e4,Nxd4,Rxd4,Qb2,Qf3+,Kg1,Rd3,Rd2,Rc3,Rd6,Ng4,Rc1,Ne3,fxe3', 'Qxe3+,Kg2,Qxc1,Qxc1,Rxc1', 'https://lichess.org/training/CB9w2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBbKE', 'Classical', 'Cerber3', 1777, 'AcemiVezir', 1655, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,Nxe5,Bd6,f4,Nxe4,Qe2,Qh4+,g3,Nxg3,Nf3+,Be6,Nxh4,Nxe2,Kxe2,Bxf4,Rf1,g5,Nf3,h6,Nd4,Bc4+,d3,Bd5,Bxf4,gxf4,Rxf4,O-O-O,c4,Rde8+,Kd2,Bg2,Rxf7,Rhg8,Nc3,Bh3,Rh7,Rg2+,Nde2,Bg4,Re1,Rxh2,Rg7,h5,Kd1,Rg2,b4', 'Bxe2+,Nxe2,Rxg7', 'https://lichess.org/training/cBbKE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBCzN', 'Bullet', 'lazywicked', 2278, 'Zero_tolerance', 2416, 'Nf3,d5,c4,c6,d4,Nf6,Nc3,a6,cxd5,cxd5,Bf4,Nc6,e3,Bg4,Be2,Rc8,O-O,e6,Rc1,Bd6,Bg5,O-O,h3,Bh5,Bh4,Na5,Ne5,Bxe2,Qxe2,Be7,Rc2,Nc4,Rfc1,Nxe5,dxe5,Nd7', 'Bxe7,Qxe7,Nxd5,exd5,Rxc8', 'https://lichess.org/training/cBCzN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBdPE', 'Rapid', 'hared063', 1741, 'Peter1953', 1804, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,h3,b6,Bg5,Bb7,Bd3,Nbd7,Qd2,c5,d5,Ne5,Nxe5,dxe5,Bh6,a6,a4,Bc8,Bxg7,Kxg7,O-O,Qd6,Rae1,Nh5,Ne2,Bd7,b3,b5,f4,bxa4,bxa4,Bxa4,f5,Bd7,g4,Nf6,g5,Ng8,Ng3,f6,h4,fxg5,Qxg5,Qf6', 'Nh5+,Kh8,Nxf6', 'https://lichess.org/training/CBdPE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBeKc', 'Blitz', 'Eliasm001', 2309, 'Trickystuff1', 2381, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,g6,Nf3,Bg7,Nc3,O-O,Be3,Be6,d5,Bg4,Bd4,N8d7,exd6,Bxf3,gxf3,exd6,Bxg7,Qh4+,Kd2,Qxf4+,Kc2,Kxg7,Qd3,Ne5,Qe4,Qxf3,Qxf3,Nxf3,Bg2,Ne5,b3,Rae8,h3,f5,Nb5,Re7,Nxa7,Nexc4,bxc4,Re2+,Kb3,Rxg2,Nb5,Rg3+,Kb4,Ra8,a4,Nd7,Nxc7,Ra7,Nb5,Nc5,Nxa7', 'Rb3+,Ka5,b6#', 'https://lichess.org/training/CBeKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBERJ', 'Rapid', 'tremorX', 2324, 'paximi', 2251, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Nc6,Bd3,Bg4,Be3,Be7,Qd2,Bxf3,gxf3,Qd7,O-O-O,O-O-O,Bb5,Bf6,Qd5,a6,Ba4,Qe6,Bxc6,bxc6,Qxc6,Qxa2,Bb6,Bg5+,Be3,Bxe3+,fxe3,Qe6,Rd4,Qxe3+,Kb1,Rhe8,Qxa6+,Kd7,Qb5+,Kc8,Ra4,Qxf3,Rf1,Qb7,Qf5+,Rd7,Rff4,Re5,Qxh7,Re1+,Ka2,Qd5+,Rfc4,Re8,b3,Rde7,Qh3+,Qe6,Qf3,d5,Rcb4,Qe2', 'Ra8+,Kd7,Qxd5#', 'https://lichess.org/training/cBERJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBfBd', 'Classical', 'Nordlead', 1660, 'haennueng', 1653, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,O-O,d4,exd4,cxd4,Bb6,e5,Ne8,Bg5,Ne7,Re1,h6,Bh4,d5,Bd3,Bg4,Qd2,Bxf3,gxf3,Bxd4,Bh7+,Kxh7,Qxd4,Nc6', 'Qd3+,g6,Bxd8', 'https://lichess.org/training/CBfBd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cbgd2', 'Blitz', 'baktiman', 1822, 'u377', 1681, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Be3,Be7,Qd2,b5,Bb3,Bb7,f3,Nc6,O-O-O,Rc8,h4,b4,Nce2,a5,Ba4,O-O,Nxc6,Bxc6,Bxc6,Rxc6,Kb1,e5,g4,Qc7,h5,Rc8,Rc1,a4,g5,Nd7,g6,h6,gxf7+,Kxf7,f4,b3,cxb3,axb3,Rxc6,bxa2+,Kxa2,Qxc6,Kb1,Ra8,Rf1,Kg8,Rg1,Qa4,Nc3,Qa5,fxe5,Nxe5,Bxh6,Qa1+,Kc2,Qxg1,Qd5+,Kh7,Qxa8,Kxh6', 'Qh8+,Kg5,Qxg7+,Kxh5,Qxg1', 'https://lichess.org/training/Cbgd2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CbgDx', 'Classical', 'Road2CM2022', 2016, 'Trrak55', 2322, 'e4,c5,Nf3,Nc6,Nc3,g6,Bb5,Nd4,Bc4,Bg7,O-O,e6,a4,Ne7,Re1,O-O,Nxd4,cxd4,Ne2,d5,exd5,exd5,Bb3,d3,cxd3,d4,Bc4,Nc6,b3,Re8,Ba3,Bg4,f3,Bf5,Ng3,Qd7,Ne4,a6,Ng5,Ne5,f4,Nxc4,dxc4,d3,Rb1,Bd4+,Kh1,Re2,Bb2,Rae8,Nf3,Bg4,Nxd4,Rxe1+,Qxe1,Rxe1+,Rxe1,f6,h3,Be2,Bc3,Kf7,a5,Qe7,b4,Qe4,c5,Qxf4,Kg1,Qg3,Rb1,g5,b5,g4,hxg4,Bxg4,Rf1,h5,bxa6,bxa6,Nf5,Qc7,Nh6+,Kg6', 'Rxf6+,Kh7,Rf7+,Qxf7,Nxf7', 'https://lichess.org/training/CbgDx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBGj7', 'Rapid', 'mansur59', 2155, 'engin2050', 2122, 'e4,Nc6,Nf3,e5,Bb5,Nf6,d3,Bc5,O-O,Nd4,Nxd4,exd4,c3,c6,Ba4,O-O,Nd2,d5,exd5,Qxd5,Bb3,Qd6,Nf3,Bg4,h3,Bh5,Bg5,dxc3,bxc3,Nd5,d4,Bb6,Qd3,Bc7,g3,h6,Bd2,Qf6,Kg2,Bg6,Qe2,Rfe8,Qd1,Be4,Bc2,Bxc2,Qxc2,Re2,Qd3,Ree8,Rae1,Ne7,Re2,Qf5,Qxf5,Nxf5,Rfe1,Kf8,Ne5,Bxe5,Rxe5,Nd6,Bc1,f6,R5e2,Nc4,f4,Rad8,Kf3,Kf7,f5,Rxe2,Rxe2,Re8,g4,Rxe2,Kxe2,g5,Kd3,Nd6,Ba3,Ne8,Bc1,Ng7,a4,h5,a5,a6,Kc4,hxg4,hxg4,Ke7,Kc5,Kd7,Kb6,Kc8,Ba3,Ne8,Be7,Nc7,Bb4,Nd5+,Kc5,Ne3,Kd6,Nxg4,Ke6,Kc7,Bd6+,Kd8,Be7+,Ke8,Bd6,Kd8,Bg3,Ke8,c4,Kf8,d5,cxd5,cxd5,Ke8,d6,Kd8,d7,Ne3,Bc7+,Kxc7,Ke7,Nd5+', 'Ke8,Kc6,d8=Q', 'https://lichess.org/training/cBGj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cbhCi', 'Blitz', 'elcandado', 2549, 'GM Enialios', 2683, 'd4,Nf6,Bf4,e6,e3,d5,Nd2,Bd6,Bg3,c5,c3,Qc7,dxc5,Qxc5,Ngf3,Bxg3,hxg3,Nc6,Bd3,e5,e4,Be6,Qe2,O-O-O,O-O,Kb8,exd5,Bxd5,Ne4,Bxe4,Bxe4,Nxe4,Qxe4,f6,Rfd1,g6,Qh4,Qe7,b4,Rxd1+,Rxd1,Rd8,Rxd8+,Nxd8,a3,h5,c4,Nf7,c5,Qe6,Qe4,f5,Qe3,Qd5,Ng5,Nd8,Nf3,e4,Nh4,a5,Nxg6,Ka7,Nf4,Qd1+,Kh2,Nc6,Ng6,Qg4,b5,Qxg6,bxc6,Qxc6,Qd4,a4,Kh3,Ka6,Kh4,Kb5,Qb4+,Ka6,Kxh5,Qb5,Qd4,Qb3,Qf6+,Kb5,Qxf5,Qxa3,g4,Qxc5,Qxc5+,Kxc5,g5,a3,g6,a2,g7,a1=Q,g8=Q,Qe5+,Qg5,Kd4,Qxe5+,Kxe5,g4,Kf6,Kh6,Kf7,Kh7,Kf6,Kh6,Kf7,Kh7,e3', 'fxe3,Kf6,Kh6,b5,g5+', 'https://lichess.org/training/cbhCi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBHiT', 'Rapid', 'sharmaveena0303', 1816, 'tranlam', 1813, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,a4,cxd4,cxd4,Nh6,a5,Nxa5,Nc3,Nb3', 'Bb5+,Bd7,Qxb3', 'https://lichess.org/training/CBHiT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cbHL1', 'Blitz', 'Bright_Heart', 1833, 'lccrepaldijr', 1849, 'd4,d5,Nd2,Nf6,f4,e6,Ngf3,c5,c3,Na6,e3,Bd7,Ne5,Bd6,Ndf3,O-O,Bxa6,bxa6,h4,Ne4,h5,Bb5,h6,g6,Bd2,f6,Ng4,Ng3,Rh3,Ne4,Qc2,a5,O-O-O,c4,Be1,a4,a3,Rb8,Nd2,Nxd2,Rxd2,Qe7,Bh4,g5,Bg3,f5,Ne5,g4,Rh5,Bxe5,Rg5+,Qxg5,fxg5,Bxg3,Qd1,Be8,Qh1,Bg6,Qf1,Rb3,Qe2,Rfb8,e4,dxe4,Qxc4,Bf4,Qxe6+,Bf7,Qxf5,Bxd2+,Kxd2,Rxb2+,Ke3,R2b3,Qe5,Rxc3+,Kf2,Rb2+,Kg1,Kf8,Qg7+,Ke7,Qf6+,Kf8,Qd8+,Be8,Qd6+,Kf7', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/cbHL1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBJGY', 'Rapid', 'SergioSoh', 1677, 'yyynnoo', 1671, 'e4,e5,Bc4,Nf6,d3,d6,h3,Be7,f3,O-O,Be3,Nh5,f4,Bh4+,Kd2,Nxf4,Bxf4,exf4,Ne2,Bg5,h4,f3+,Kc3,fxe2,Qxe2,Bf6+,d4,c5,Nd2,Bxd4+,Kd3,Nc6,c3,Bf6,Rhf1,Ne5+,Ke3,Be6,Bxe6,fxe6,Rf2,d5,Raf1,d4+,Kf4,Ng6+,Kg4,e5,Qc4+,Kh8,Qxc5,dxc3,Qxc3,Bxh4,Rxf8+,Nxf8,Nc4,Qg5+,Kh3,h5,Nxe5,Qe7', 'Rxf8+,Rxf8,Ng6+,Kg8,Nxe7+', 'https://lichess.org/training/CBJGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBJoK', 'Rapid', 'Mvdp', 1768, 'subins', 1791, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,d5,exd5,Nxd5,Qe2,Bd6,d4,O-O,dxe5,Re8,Be3,Nxe5,Nxe5,Rxe5,Nd2,Nf4,Qc4,Be6,Qa4,Nd5,Nc4,Re4,Bd3,Rg4,f3,Rxg2,Nxd6,Qxd6,Qe4,Nxe3,Qxh7+,Kf8,Qh8+,Ke7,Qh4+,f6,Qe4,Nc2+,Kf1,Rxh2,Rxh2,Qxh2,Bxc2,Qh1+,Ke2,Qxa1,Qb4+,Kf7,Qxb7,Re8,Qxc7+,Re7,Bg6+,Kf8', 'Qd8+,Re8,Qxe8#', 'https://lichess.org/training/CBJoK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cbjYc', 'Blitz', 'MahouSetup', 1541, 'zzzombie', 1508, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,h6,Qf3,hxg5,Bxc6+,Nxc6,Qxc6+,Nd7,Qxa8,a6,O-O,Nb6,Qf3,g4,Qe4,f5,Qxe5+,Be7,Qxg7,Rxh2,Kxh2,Bd6+,g3,Bb7,d3', 'Qh4+,Kg1,Qh1#', 'https://lichess.org/training/cbjYc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBK42', 'Blitz', 'Aloslaw', 2491, 'CM Davigator', 2333, 'Nf3,Nf6,c4,g6,g3,Bg7,Bg2,d6,O-O,O-O,d4,Nc6,Nc3,Bg4,h3,Bxf3,Bxf3,Nd7,e3,e5,d5,Ne7,Bg2,Nc5,e4,f5,f4,fxe4,Nxe4,Nxe4,Bxe4,Nf5,Kh2,Nd4,Be3,a6,Bxd4,exd4,Qd3,Rb8,f5,Be5,fxg6,hxg6,Bxg6,Qg5,Bf5,b5,cxb5,Rxb5,Be6+,Kg7,b3,Rc5,Rxf8,Kxf8,Rf1+,Ke8,Qh7', 'Qxg3+,Kh1,Qh2#', 'https://lichess.org/training/CBK42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBkBU', 'Blitz', 'FM CoachJesse', 2520, 'BishopSniper23', 1669, 'd4,d5,Nf3,Bg4,Ne5,Be6,c4,Nf6,cxd5,Bxd5,Nc3,Be6,e4,c6,Be2,Na6,O-O,Nb4,a3,Na6,Be3,Bc8,f4,e6,f5,Be7,fxe6,Bxe6,Bxa6,bxa6,Nxc6,Qc7,Nxe7,Qxe7,d5,Bd7,Qd4,O-O,Bg5,Qd6,Rxf6,gxf6,Bxf6,Qb6,Rf1,Rae8,Rf3,h5,Rg3+,Kh7,Rg7+,Kh6', 'Bg5#', 'https://lichess.org/training/cBkBU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CbkE1', 'Rapid', 'abdullah_ali', 2167, 'Pero2003', 1989, 'e4,c5,Nf3,d6,Bc4,g6,O-O,Bg7,c3,Nf6,d4,cxd4,e5,dxe5,Nxe5,O-O,cxd4,Nc6,Nxc6,bxc6,Re1,Bf5,Nc3,Re8,Qa4,Qxd4', 'Bxf7+,Kxf7,Qxd4', 'https://lichess.org/training/CbkE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBL2P', 'Classical', 'runawey', 1810, 'gizburg', 1778, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,O-O,Nf3,d6,c3,Nc6,Bb3,b5,Nh2,a5,a4,Ba6,Qf3,b4,Bd1,d5,Nd2,dxe4,dxe4,Qd3,Be2,Qxf3,Nhxf3,Bxe2,Kxe2,Rad8,Re1,Nh5,g3,f5,Ng5,Rde8,exf5,Rxf5,Nge4,Be7,Nc4,Rff8,Be3,Nf6,Nxf6+,Bxf6,cxb4,Nxb4,Rac1,Rd8,Red1,e4,b3,Nd3,Rc2,Rd5,f3,Nb4,Rxd5,exf3+,Kxf3,Nxc2,Kg4,Bc3,Bf4,Nb4,Rxa5,Nd3,Ra7,Nf2+,Kh4,Bf6+,Bg5,h6,Bxf6,Rxf6,g4,g5+,Kg3,Ne4+,Kg2,Rf2+,Kg1,Rf3,Rxc7,Rxb3,Kg2,Rc3,a5,Nd6,a6,Nxc4', 'a7,Ra3,Rc8+', 'https://lichess.org/training/CBL2P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CbLvr', 'Rapid', 'Soroush95', 1792, 'Erkaa', 1607, 'c4,e5,e3,Qf6,g3,Qc6,Nf3,d6,Bg2,e4,Nd4,Qxc4,Qc2,d5,Qxc4,dxc4,Bxe4,Nf6,Bg2,Bc5,O-O,O-O,b3,cxb3,Nxb3,Bd6,Bb2,Nc6,Nc3,a6,Na4,Ng4,Nd4,Nxd4,Bxd4,c6,Nb6,Rb8,Rab1,h6,f3,Ne5,f4,Nd7,Nxc8,Rfxc8,Ba7,Ra8,Rxb7,Nc5,Bxc5,Bxc5,Rc1,Bd6,Rxc6,Rxc6,Bxc6,Rc8,Be4,g6,Rb6,Bc5,Rxa6,Bb4,d3,Bd2,Kf2,Rb8,Kf3,Rb1,a4,Re1,Ra8+,Kg7,a5,Rxe3+,Kf2,Re1,a6,Ra1,Bb7,Bb4,Rb8,h5,Kf3,Ra3,Be4,Bc5,Rb5,Bd4,Rb4,Bc5,Rc4,Bb6,Rc6,Bg1,h3,Bd4,f5,g5,g4,hxg4+,hxg4,Ra2,Rd6,Bc5,Rc6,Bd4,Rc4,Be5,Bb7,Ra1,d4,Bd6,d5,Ra3+,Ke4,f6,Rc6,Be5,d6,Ra4+,Kd5,Kf7,d7,Rd4+,Kc5,Rxd7,a7,Bd4+,Kb5', 'Rxb7+,Kc4,Bxa7', 'https://lichess.org/training/CbLvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cbmna', 'Rapid', 'chesslearner20', 1900, 'Aristo2365', 2082, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Nbd7,e3,Be7,Qc2,O-O,cxd5,exd5,Bd3,h6,Bxf6,Nxf6,h4,Bg4,Ne5,Be6,f3,Nh5,O-O-O,Bxh4,g4,Ng3,Rh3,f5,Ng6,fxg4,Rxh4,Rxf3,Nf4,Qxh4', 'Bh7+,Kh8,Ng6+,Kxh7,Nxh4+', 'https://lichess.org/training/Cbmna');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBMRt', 'Rapid', 'audi-razborka', 1853, 'lostintravel', 1776, 'e4,e6,d4,d6,Nf3,Nf6,Nc3,Be7,Bd3,O-O,O-O,Bd7,e5,Nd5,Nxd5,exd5,b3,dxe5,Nxe5,Bd6,Nxd7,Nxd7,Qh5,Nf6,Qh4,Ne4,Qh3,Qf6,f3,Ng5', 'Bxg5,Qxd4+,Kh1', 'https://lichess.org/training/CBMRt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CbnLu', 'Rapid', 'TallnLanky611', 1707, 'aajones', 1684, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,d4,exd4,Qxd4,c5,Qd3,O-O,Bg5,a6,a4,Nc6,Bxf6,Bxf6,c3,Ne5,Nxe5,dxe5,Nd2', 'Qxd3,Bxd3,Rd8,Nc4,Rxd3,Nb6,Rb8', 'https://lichess.org/training/CbnLu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CbnSl', 'Rapid', 'Ivorybags', 1785, 'one-ideaed', 1686, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Be3,Qb6,Qd2,cxd4,cxd4,Nge7,Nc3,Nf5,Bd3,Nxe3,fxe3,Be7,Nge2,Bd7,O-O,O-O,Qc2,Bg5,Nf4,h6,Rae1,Nb4,Qf2,Bxf4,Bb1,Bg5,e4,Bc6,a3,Na6,b4,dxe4,Nxe4,Bxe4,Bxe4,Rac8,Rd1,Rc3,Rd3,Rxd3,Bxd3,Nc7,Qc2,Nd5,Bh7+,Kh8,Bg6,Qxd4+,Kh1,Qxe5,Rxf7,Rxf7', 'Qc8+,Bd8,Qxd8+,Rf8,Qxf8#', 'https://lichess.org/training/CbnSl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBO4t', 'Rapid', 'mtu_nguch', 1808, 'marsh_randy', 1744, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bc4,g6,f3,Bg7,Be3,O-O,Qd2,Bd7,O-O-O,Rc8,Nxc6,Bxc6,Bb3,Qc7,Kb1,Nd7,Nd5,Bxd5,Qxd5,Ne5,h4,h5,f4,Ng4,Bd4,a5,Bxg7,Kxg7,f5,Nf2', 'Qd4+,Kh7,Qxf2', 'https://lichess.org/training/cBO4t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBOJA', 'Blitz', 'bartosz546', 1672, 'Fafetra', 1617, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,O-O,Be7,Bg5,Qc7,Bb3,Nc6,Qd2,O-O,Rad1,Rd8,Kh1,b5,f4,Bb7,Bxe6,Nxd4,Bxf7+,Kxf7,Qxd4,Qc5,Qd3,b4,Nd5,Nxd5,exd5,Bxg5,Qxh7,Bf6,f5,Bxd5,Qg6+,Kg8,Rf3,Bxf3,gxf3,Re8,Rg1,Re2,Qxf6,Qe5', 'Rxg7+,Kh8,Qh6#', 'https://lichess.org/training/CBOJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBoM3', 'Rapid', 'maratkostrov', 1865, 'PacoToro', 1981, 'd4,Nf6,Bf4,c6,Nc3,e6,e4,Bb4,Bd3,O-O,a3,Ba5,Nf3,d5,e5,Ne4,O-O,Nxc3,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,f5,exf6,Rxf6', 'Nxe6+,Kf7,Nxd8+', 'https://lichess.org/training/CBoM3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBPrK', 'Blitz', 'Thatsnew', 2287, 'IM Aronian1111', 2459, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,h3,c5,d5,e6,Bd3,exd5,exd5,Re8+,Be3,Nbd7,O-O,Ne5,Nxe5,Rxe5,Bf4,Re8,Qd2,a6,a4,Nh5,Bh2,Be5,Bxe5,Rxe5,Rfe1,Bd7,a5,f5,Na4,Bxa4,Rxa4,Rxe1+,Qxe1,Qe8,Qd1,Qe5,b4,Re8,bxc5,dxc5,Ra1,Nf4,Bf1,g5,Rb1,Re7,g3,Ng6,Bd3,f4,Qg4,fxg3,Qxg3,Nf4,Bf1,h6,Rb6,Kg7,Qb3,Qf5,Rxb7,Rxb7,Qxb7+,Kg6,Qxa6+,Kh5,Qb6,Ng6,Qd6,Nh4,Qg3,Nf3+,Kg2,Nh4+,Kh1,Kg6,Qg4,Qxf2,Bg2,Qe1+,Kh2,Qe5+,Qg3,Qd4,d6,Nf5,Qe1,Qxd6+,Kh1,Ng3+,Kg1,Qd4+,Kh2,Nf5,Bd5,Qf4+,Kg2,Ne3+,Kg1,Qd4,Qb1+,Kg7,Qe4,Nxd5+', 'Qxd4+,cxd4,cxd5', 'https://lichess.org/training/CBPrK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBPs0', 'Blitz', 'AlijaIkic1950', 2217, 'tk780277', 2214, 'd3,d5,Nf3,Nf6,g3,c5,Bg2,Nc6,O-O,e5,c4,d4,Na3,h6,Nc2,Bg4,a3,Bd6,b4,cxb4,axb4,Bxf3,Bxf3,O-O,b5,Nb4,Nxb4,Bxb4,Bxb7,Bc3,Ra2,Ng4,h3,Nf6,Bxa8,Qxa8,Bd2,e4,Bxc3,dxc3,Rc2,Rd8,Rxc3,Qc8,d4', 'Qxh3,e3,Ng4,Qxg4,Qxg4', 'https://lichess.org/training/cBPs0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CbQfd', 'Rapid', 'Fbp16', 1890, 'grzesiek1234', 1894, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,c6,O-O,Nf6,Re1,Qe7,d4,Nbd7,dxe5,Nxe5,Nxe5,dxe5,Be3,Be6,Bb3,Bxb3,axb3,a6,Bb6,Qb4,Ba5,Qd6,f3,Be7,Ra4,b5,Ra1,O-O,Qe2,Qe6,Red1,Bc5+,Kf1,g5,Na2,g4,Bb4,Bxb4,Nxb4,a5,Nd3,gxf3,Qxf3,Kh7,Nc5,Qe7,Qf5+,Kg7,Nd7,Nxd7,Rxd7,Qf6,Re1,a4,bxa4,Rxa4,Kg1,Rc4,c3,Re8,Qg4+,Qg5,Qf5,Re7', 'Qxg5+,hxg5,Rxe7', 'https://lichess.org/training/CbQfd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cbqFO', 'Rapid', 'shamiknag', 1967, 'Hussain555', 1804, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Bc4,Nf6,c3,Nxf3+,Qxf3,c6,d4,d5,exd5,e4,Qe2,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,Bg5,Be7,Nd2,h6,Bh4,g5,Bg3,Ng4,h3,Nf6,Be5,O-O,f4,Nh7,O-O,f6,fxg5,fxe5,gxh6,exd4,Qh5,Bg5,Qg6+,Kh8,cxd4,Rg8,Qh5,Qe6,Nb3,Bxh6,Nc5,Be3+,Kh1,Qe7', 'Rf7,Qxf7,Qxf7', 'https://lichess.org/training/cbqFO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBQJt', 'Rapid', 'jtcdfg', 1946, 'elmirth', 1960, 'e4,e6,d4,c6,Nf3,d6,Nc3,Be7,Bc4,a6,a4,Nd7,O-O,Ndf6,Bg5,h6,Be3,g5,e5,Nd7,Qd3,d5,Ba2,b6,a5,bxa5,Bb3,Bb4,Na4,Ne7,c3,Nf5,cxb4,axb4,Nc5,Nxc5,dxc5,a5,Nd4,Ba6,Qd2,Bxf1,Nxf5,exf5,Kxf1,Qd7,Bd4,Qe6,Qxb4,axb4,Rxa8+,Ke7,Rxh8,f4,Rb8,Qf5,Rxb4,f3,Rb7+,Ke6,gxf3,Qxf3,Rb6', 'Qd3+,Ke1,Qxd4', 'https://lichess.org/training/cBQJt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBqMu', 'Rapid', 'mamutOka', 1633, 'TutyhinErkin', 1611, 'e4,e5,Qh5,Nc6,Bb5,Nf6,Qg5,Nxe4,Qe3,Nf6,Bxc6,dxc6,Qxe5+,Be7,Nf3,O-O,d4,Re8,Qg5,Ne4,Qa5,Be6,Be3,b6,Qe5,Bd5,Nbd2,Nxd2,Nxd2,b5,a3,a5,b3,a4,b4,Bxg2,Rg1,Bf6,Qg3,Bd5,O-O-O,c5,dxc5,Qe7,Rde1,c6,Bd4', 'Qxe1+,Rxe1,Rxe1+,Kb2,Bxd4+', 'https://lichess.org/training/cBqMu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBrsK', 'Classical', 'boberarena', 2113, 'Vlik145675', 1788, 'e4,c5,d4,cxd4,Nf3,d6,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Bg5,h6,Bh4,Nf6,Bxf6,exf6,Nc3,Be7,O-O-O,Qc7,Rd2,O-O,Rhd1,a6,Nd5,Bxd5,Qxd5,Rfd8,Nd4,Qc5,Nf5,Qc7,f4,b5,e5,dxe5,Nxe7+,Qxe7,Qxd8+,Rxd8,Rxd8+,Kh7,f5,Qc5,Rf1,Qc4,Rf3,Qxa2,Rc3,Qa1+,Kd2,Qxb2', 'Rcc8,Qd4+,Rxd4', 'https://lichess.org/training/cBrsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBsXA', 'Blitz', 'Milen123', 1892, 'Danielbrownegr', 1904, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,O-O,Nf3,d6,e3,Bg4,h3,Bxf3,Qxf3,c6,Be2,Nbd7,O-O,a6,a4,Qa5,Rab1,e5,b4,Qc7,Bg5,exd4,exd4,Rfe8,Bd3,Re6,Rfe1,Rae8,Rxe6,Rxe6,d5,cxd5,Nxd5,Nxd5,cxd5,Ne5,Qd1,Re8,Rc1,Qd7,Bf1,f5,b5,Nf7,Bf4,Qe7,bxa6,bxa6,Bxa6,Qe4,Rc4,Qe1+,Qxe1,Rxe1+,Kh2,Re8,Rc8,Rxc8,Bxc8,Bd4,f3,Ne5,a5,Kf8,a6,Ke7,Bc1,Nd7,Bg5+,Ke8,Kg3,Ne5,Bb7,Kd7,Kf4,Nd3+,Kg3,Nc5,Bc6+,Kc7,a7,Ne4+,Kh4', 'Bf2+,g3,Bxg3#', 'https://lichess.org/training/CBsXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cbthY', 'Classical', 'Novikov_Nikita', 1789, 'Dziarkach_Alyaksandr', 1723, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Be7,O-O,O-O,b3,b6,Bb2,Bb7,Nxf6+,Nxf6,c4,c5,dxc5,Bxc5,Qe2,Qe7,Qe5,Bxf3,gxf3,Qd6,Qxd6,Bxd6,Bxf6,gxf6,Be4,Rad8,Rad1,f5,Bc2,Kg7,Rd3,Kf6,Rfd1,Ke7,Re3,Rd7,Bxf5', 'Bxh2+,Kxh2,Rxd1', 'https://lichess.org/training/cbthY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CbtvV', 'Rapid', 'MiraBelak', 1665, 'jonnypiano94', 1721, 'd4,d5,Nf3,Nf6,e3,g6,c3,Bg7,Nbd2,O-O,Bd3,Re8,O-O,Nbd7,Re1,e5,dxe5,Ng4,e4,Ngxe5,exd5', 'Nxd3,Rxe8+,Qxe8', 'https://lichess.org/training/CbtvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cbU20', 'Rapid', 'bowlofnails', 2173, 'Rematchblackonly', 1945, 'e4,b6,d4,Bb7,Nc3,e6,Bd3,Nf6,Nf3,Bb4,Bg5,h6,Bh4,g5,Bg3,Nxe4,Bxe4,Bxe4,Qe2,Bxc3+,bxc3,Bxf3,Qxf3,Nc6,h4,d5,hxg5,Qxg5,Rh5,Qg6,Bh4,Kd7,Bf6,Rhg8,Rxd5+,exd5,Qxd5+,Kc8,Qxc6,Kb8,O-O-O,Qxg2,Qd7,Kb7,Be5,Rac8,d5,Qg5+,f4,Qd8', 'Qc6+,Kb8,d6', 'https://lichess.org/training/cbU20');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cbUDm', 'Rapid', 'Fugleman', 1810, 'prezofchess', 1792, 'd4,d5,Nf3,c5,e3,Nc6,c3,Bg4,Nbd2,cxd4,cxd4,e5,dxe5,Nxe5,Be2,Nxf3+,Bxf3,Bxf3,Nxf3,a6,O-O,Nf6,a3,Bd6,b4,O-O,Bb2,Bc7,Bd4,Qd6,Bc5,Qd8,Bxf8,Qxf8,g3,Ne4,Qxd5,Qe8,Rac1,Nf6,Qxb7,Bd6,Qc6,Be7,Nd4,Qd8,Rfd1,Qb8,Nf5,Bf8,Qc7,Qb5,Ne7+,Kh8,Nd5,Nxd5,Qxf7,Nf6,Rd2,Qf5,Rdc2,h6,Kg2,Qe4+,Kg1,Qg4,Kg2,Qe4+,f3,Qxe3,Rc8,Rxc8,Rxc8,Qe2+,Kh3', 'Qf1+,Kh4,g5#', 'https://lichess.org/training/cbUDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBuxL', 'Rapid', 'MatthewBishop', 1620, 'alanyaresim', 1673, 'Nf3,d5,d4,a6,e3,Nf6,c4,e6,cxd5,Nxd5,Nc3,Bb4,Bd2,O-O,a3,Bd6,Nxd5,exd5,Bd3,h6,Bb4,Bg4,h3,Bh5,g4,Bg6,Qc2,Bxd3,Qxd3,Qf6,Bxd6', 'Qxf3,Rg1,cxd6', 'https://lichess.org/training/cBuxL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBUxZ', 'Classical', 'Aelserhood', 1842, 'yassershokry1234', 2081, 'e4,d6,Nf3,e5,d3,Nd7,Nbd2,Ngf6,Be2,g6,c3,Bg7,Qc2,O-O,O-O,c6,Re1,Re8,Nf1,a6,Ng3,b6,Bd2,Nf8,Qc1,Bb7,Bh6,Ne6,Bxg7,Kxg7,h3,c5,Nh2,Rc8,Ng4,Nxg4,Bxg4,Rc7,Rf1,Nf4,Qd2,a5,Ne2,Qg5,g3', 'Nxh3+,Bxh3,Qxd2', 'https://lichess.org/training/CBUxZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBWcN', 'Rapid', 'Cha235711', 1712, 'savevski', 1705, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Nf6,Nc3,Bd7,a4,a6,Bc4,b5,axb5,axb5,Rxa8,Qxa8,Bxb5,e5,Nd5,Qb7,Nxf6+,gxf6,Bxc6,Bxc6,Nxc6,Qxc6,Qe2,Qd7,O-O,f5,c3,fxe4,Qxe4,f5,Qa8+,Ke7,Bg5+,Ke6,Qa2+,d5,Qa6+,Kf7,Qf6+,Kg8,Qxe5,Bg7,Qb8+,Kf7,Qf4,h6,Bh4,Re8,h3,Be5,Qxh6,Rb8,Qh7+,Bg7,Rb1', 'Rh8,Qxh8,Bxh8', 'https://lichess.org/training/CBWcN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBwIo', 'Classical', 'Andreas-Gerlach', 1846, 'Maths-Lots', 1790, 'Nf3,d5,e3,Nc6,c4,Bg4,Be2,Nf6,cxd5,Qxd5,Nc3,Qh5,d4,O-O-O,h3,Bxf3,Bxf3,Qf5,e4,Qa5,d5,e6,O-O,exd5,exd5,Ne5,Be2,Nxd5,Qb3,Nxc3,bxc3,Bd6,Rb1,Qb6,Qc2,Qc6,Bb5,Nf3+,gxf3,Qxf3,Be2', 'Qxh3,Qf5+,Qxf5', 'https://lichess.org/training/CBwIo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBxMs', 'Blitz', 'Fogueomail', 1827, 'Vinay009', 1748, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,h6,Bh4,O-O,Bd3,Nc6,a3,a6,Qc2,b5,Nxb5,axb5,Qxc6,Bd7,Qc2,Ne4,Bxe7,Qxe7,Nf3,c5,dxc5,Nxc5,O-O,Rac8,Nd4,Qg5,Kh1,Ne4,Qe2,Rc7,Nxb5,Rc6,Rac1,Rg6,Rg1,Rb8,Nd4,Kh7,f3', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/CBxMs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CbyNC', 'Rapid', 'FinalMasquerade', 1778, 'Arinze1992', 1703, 'e4,e5,Nf3,Nf6,Nc3,d6,d4,exd4,Qxd4,Be7,Bc4,O-O,O-O,Nc6,Qd3,a6,Ng5,Qd7,e5,dxe5,Qg3,Qd4,Bd3,Bd6,Be3,Qb4,Nd5,Nxd5,Bxh7+,Kh8,Be4,Nf6,Qh4+,Kg8,Bh7+,Kh8,Be4+,Kg8,Nh7,Nxe4,f3,Nc5,Nf6+,gxf6,Qg3+,Kh8,Bh6,Rg8,Qf2,Na4,c3,Qxb2,Bd2,Nxc3', 'Qh4+,Kg7,Qh6#', 'https://lichess.org/training/CbyNC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CBZ9e', 'Rapid', 'jjww', 2098, 'juankvenera', 1939, 'd4,d5,c4,c6,Bf4,Nf6,Nc3,Bf5,Nf3,e6,h3,h6,e3,Bh7,Bd3,Bxd3,Qxd3,Nbd7,O-O,Be7,Rac1,a6,a3,b5,cxd5,cxd5,b4,O-O,Nb1,Qb6,Rc2,Rfc8,Rfc1,Qb7,Nbd2,Nb6,Rc7,Rxc7', 'Rxc7,Qb8,Rxe7', 'https://lichess.org/training/CBZ9e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cBZFC', 'Rapid', 'InTheAirTonight', 2101, 'mathijshuis', 2140, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,dxe5,dxe5,Bf5,Bc4,Nb4', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/cBZFC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cbzi6', 'Rapid', 'Jakefawkes', 1652, 'markolinzio', 1648, 'e4,d5,e5,f6,f4,fxe5,fxe5,Nd7,d4,c5,c3,c4,Nf3,e6,b3,b5,b4,a5,bxa5,Qxa5,Be2,Nh6,O-O,Nf5,Bg5,h6,Bh4,g5,Bg3,b4,cxb4,Bxb4,Nbd2,Bc3,Rc1,Nxd4,Nb1,Nxf3+,Bxf3,Bxe5,Bh5+,Ke7', 'Rf7+,Kd8,Rxd7+,Bxd7,Bxe5', 'https://lichess.org/training/cbzi6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cc0zs', 'Rapid', 'kristero', 1770, 'ElizaEB', 1763, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,h6,Bh4,Be7,e3,O-O,cxd5,Nxd5,Nxd5,cxd5,Bxe7,Qxe7,Bd3,Nc6,a3,e5,dxe5,Nxe5,Bc2,Bg4,Qxd5,Bxf3,gxf3,Rad8,Qe4,f5,Qf4,g5,Qg3,f4,Qh3,fxe3,Qxh6,Nxf3+,Kf1,Nd2+,Kg1,exf2+,Kg2,f1=Q+,Rhxf1,Qe2+,Kg1', 'Rxf1+,Rxf1,Qxf1#', 'https://lichess.org/training/Cc0zs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cC4dX', 'Rapid', 'Aequumm', 1859, 'PaWellTi', 1866, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,Nf6,Bd3,e6,O-O,Be7,Bg5,O-O,Nbd2,e5,d5,Nd4,Nxd4,exd4,Rc1,h6,Bxf6,Bxf6,Qa4,Bd7,Bb5,Bxb5,Qxb5,b6,Rc2,Re8,f3,Rc8,Rfc1,Rxc2,Rxc2,Bg5,Nb3,Be3+,Kh1,Re5,Qd3,Rh5,Nxd4', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/cC4dX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cC53h', 'Blitz', 'C0SMICus', 1517, 'Lionart', 1927, 'd4,e6,Bf4,Nf6,Nc3,c5,Qd2,Nc6,dxc5,Bxc5,O-O-O,Bxf2,Nf3,O-O,e3,Ng4,h3,e5,hxg4,exf4,Qxf2,fxe3,Qxe3,Qf6,Qg5,Qe6,Bd3,h6,Rxh6,Qxh6,Qxh6,gxh6,Rh1,Kg7,g5,hxg5', 'Rh7+,Kf6,Nd5+,Ke6,Nc7+,Ke7,Nxa8', 'https://lichess.org/training/cC53h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cc5ST', 'Blitz', 'FM Arej94', 2462, 'cocolasticot', 2418, 'd4,Nf6,c4,e5,d5,b5,cxb5,a6,bxa6,Bxa6,Nc3,Bc5,g3,O-O,Bg2,d6,Nf3,Nbd7,O-O,Re8,h3,e4,Nd4,Ne5,Nc6,Nxc6,dxc6,d5,Bg5,Re5,Bf4,Re6,Bg5,Re5,Bxf6,gxf6,Rc1,f5,Qd2,d4,Qf4,Bd6,Nxe4,fxe4,Bxe4,Qg5,Qxg5+,Rxg5,Rfe1,Re8,Bf3,Bb4,Red1,Bc5,Rc2,Bb6,Kg2,Rge5,Kf1,Kg7,a3,Kf6,b4,Bb5,Rdd2,h5,Ra2,Bc4,Ra1,Bd5,a4,Bxf3,exf3,d3,a5,Bd4,Raa2,Re1+,Kg2,R8e2,b5,Bxf2', 'Rxe2,dxe2,Kxf2', 'https://lichess.org/training/Cc5ST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CC7hL', 'Classical', 'cide37', 1932, 'VadimSS1990', 1849, 'e4,e5,Nc3,Bc5,f4,exf4,Nf3,g5,h3,d6,d4,Bb4,Bc4,Nh6,Bd2,g4,hxg4,Nxg4,Qe2,h5,O-O-O,Nc6,Nd5,Bxd2+,Qxd2,Be6,Rdf1,Bxd5,Bxd5,Qe7,Qxf4,O-O-O,Qxf7,Qxf7,Bxf7,Ne3,Rf2,Rdf8,Be6+,Kb8,d5,Ne5,Re2,Nxg2', 'Nxe5,dxe5,Rxg2', 'https://lichess.org/training/CC7hL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CC9NM', 'Blitz', 'sullyste', 1675, 'AVATAR-21', 1841, 'e4,c5,c3,d5,e5,Bf5,d4,e6,Nf3,Nc6,Bf4,Qb6,b3,cxd4,cxd4,Bb4+,Bd2,Nxd4,Nxd4,Qxd4,Bxb4,Qxa1,Bb5+,Kd8,O-O,Bxb1,Qxb1,Qxb1,Rxb1,Ne7,Rc1,a6', 'Ba5+,b6,Bxb6#', 'https://lichess.org/training/CC9NM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CcAVz', 'Blitz', 'alessiov94', 2185, 'tjdahsyat', 2230, 'a3,d5,b4,Nf6,Bb2,c6,e3,Bf5,c4,e6,f4,Nbd7,Nf3,Bd6,Nc3,h6,Be2,Rg8,O-O,Qe7,c5,Bc7,d4,Ne4,b5,g5,Ne5,gxf4,exf4,Ndxc5,bxc6,Bxe5,fxe5,bxc6,Nxe4,Nxe4,Qa4,Qb7,Rac1,Qxb2,Qxc6+,Ke7,Rxf5,Qxd4+,Kf1,exf5,Qb7+,Ke6', 'Rc6+,Nd6,Rxd6+,Kxe5,Qe7+', 'https://lichess.org/training/CcAVz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ccdgp', 'Classical', 'sawthin', 1690, 'cammellos', 1919, 'c4,e5,g3,c6,Bg2,d5,cxd5,cxd5,Qb3,Nf6,Nc3,e4,d3,Bf5,Bg5,Be7,Bxf6,Bxf6,Nxd5,O-O,Nxf6+,Qxf6,dxe4,Bg6,e5,Qxe5,Bxb7,Re8,Bxa8,Na6,Bb7,Nc5,Qb5', 'Nd3+,Qxd3,Bxd3', 'https://lichess.org/training/ccdgp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CcEFa', 'Blitz', 'Fares88M', 2129, 'IM AryaCross', 2575, 'e4,c6,Nf3,d5,d3,Bg4,exd5,cxd5,Be2,Nc6,O-O,e6,h3,Bh5,c3,Nf6,d4,Bd6,Bg5,O-O,Nbd2,h6,Bh4,g5,Bg3,Bxg3,fxg3,Bg6,g4,Qd6,Qe1,Ne4,Bd3,f5,gxf5,exf5,Bxe4,fxe4,Nh2,Rae8,Ng4,h5,Rxf8+,Rxf8,Ne3,Ne7,Qe2,Kh7,Rf1,Nf5', 'Nxf5,Bxf5,Qxh5+', 'https://lichess.org/training/CcEFa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cCEh6', 'Blitz', 'CarlosHermel', 1610, 'MontyKrysto', 1596, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,Be7,dxe5,d5,exd5,Qxd5,Qxd5,cxd5,O-O,Bb7,Nc3,Bb4,a3,Bxc3,bxc3,Ne7,Bg5,Ng6,Rfe1,h6,Bd2,O-O,Nd4,c5,Nb3,Rac8,e6,fxe6,Rxe6,Kh7,g3,c4,Nd4,Rf7,Nb5,a6,Nd6,Rfc7,Nxc8,Rxc8,Rb1,Rc7,Reb6,Bc8,f4,Ne7,Rd6,Bf5,Rbb6,Bxc2,Rxa6,d4,cxd4,c3,Bc1,Bd3,f5,Bxa6,Rxa6,Nxf5,g4,Nxd4,g5,Ne2+,Kf1,Nxc1', 'g6+,Kh8,Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/cCEh6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CceHY', 'Blitz', 'FM Wildindian', 2655, 'IM Belyakov_Bogdan', 2600, 'Nf3,Nf6,b3,g6,Bb2,Bg7,d4,c5,e3,Ne4,Bd3,Qa5+,c3,cxd4,exd4,d5,O-O,Nc6,Re1,f5,b4,Qc7,b5,Na5,Nbd2,O-O,Rc1,Be6,Ne5,Bxe5,dxe5,Nc5,Bf1,Nc4,Rc2,Nxd2,Qxd2,Ne4,Qd4,b6,f3,Nc5,Bc1,Bf7,Bh6,Rfd8', 'e6,Nxe6,Rxe6', 'https://lichess.org/training/CceHY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cCekG', 'Rapid', 'Eric691', 1780, 'jimmboi', 1691, 'd4,d5,c4,c6,Nf3,Bf5,Nc3,e6,g3,Bd6,c5,Bc7,Nh4,Bg6,Nxg6,hxg6,Bg2,Ne7,e4,dxe4,Nxe4,Nf5,Be3,Ba5+,Ke2,Na6,g4,Nh4,Nd6+,Ke7,Bg5+,f6,Bxh4,Rxh4,h3,Nb4,Nxb7,Qc7,Nd6,Nd5,Bxd5,cxd5,Qa4,Rb8,b3,Rhh8,Qa3,Rb4,Qb2,Qc6,a3,Rbb8,b4,Bc7,b5,Qd7,Qb4,a5,Qc3,Bxd6,cxd6+,Qxd6,a4,Rbc8,Qxa5,Qf4,Qb4+,Kf7,Qd2', 'Qe4+,Qe3,Rc2+,Kd1,Qxh1+,Kxc2,Qxa1', 'https://lichess.org/training/cCekG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CCgFl', 'Blitz', 'Zz-LoordSenzo-zZ', 1864, 'myhans', 1781, 'e4,d6,Nf3,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,h3,Nbd7,O-O,e5,d3,a6,Be3,b5,Qd2,c5,Bh6,Qe7,Bg5,Bb7,Nh2,Qe8,f4,exf4,Qxf4,Qe5,Qe3,Nh5,Bh4,Qe6,g4,Bd4,Qxd4,cxd4,gxh5,dxc3,hxg6,hxg6,Ng4,cxb2,Rae1,Ne5,Nf6+,Kg7,Rf4,Qxa2,Nd5,b1=Q', 'Bf6+,Kg8,Ne7+,Kh7,Rh4#', 'https://lichess.org/training/CCgFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ccGHG', 'Rapid', 'abdulazizhani', 1786, 'Jebgy', 1896, 'e4,c5,Nc3,a6,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Qh5,Qe7,Qf3,Bb7,Bg5,d5,exd5,e4,Nxe4,Qb4+,Qc3', 'Nxe4,Qxb4,Bxb4+', 'https://lichess.org/training/ccGHG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ccgur', 'Blitz', 'Baziukas', 2070, 'Martijs', 1948, 'd4,e6,c4,d5,Nf3,Nf6,g3,c5,cxd5,exd5,Bg2,Nc6,O-O,cxd4,Nxd4,Bc5,Nxc6,bxc6,a3,O-O,b4,Bb6,Bb2,a5,Nc3,axb4,axb4,Rxa1,Qxa1,Qd6,Na4,Bd8,Nc5,Bb6,e4,Ne8,exd5,cxd5,Rd1,Be6,Nxe6,fxe6,Rc1,Rxf2,Kh1,Qxb4,Ba3,Qd4,Qxd4,Bxd4,Bh3,h6,Bxe6+,Kh7,Bxd5,Nf6,Bg2,Ra2,Be7,Ra3,Rd1,Ra4,Bc6,Rc4,Bb5,Rc7,Rxd4,Rxe7,Bd3+,g6,Kg2,Ra7,Rd6,Kg7,Kf3,g5,h3,Ra3,Ke3,Rb3,Rc6,Ra3,Rc7+,Kf8,Rc8+,Kg7,Rc7+,Kf8,Rc6,Nd5+,Kd4,Kg7,Kxd5,Rxd3+,Ke5,Rxg3,Kf5,Rxh3,Rc7+,Kh8', 'Kg6,Rf3,Rc8+,Rf8,Rxf8#', 'https://lichess.org/training/ccgur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cchKA', 'Rapid', 'vivifer', 2163, 'Tezzys', 2262, 'Nf3,d5,d4,Nf6,g3,Bf5,Bg2,e6,O-O,Ke7,Nbd2,g6,Re1,Ke8,Nf1,Nbd7,c3,h6,Nh4,Bg4,Ne3,Bh5,Qb3,g5,Nf3,Rb8,c4,c6,a3,b5,cxd5,cxd5,Bd2,Ne4,Bb4,a5,Bxf8,Kxf8,g4,Bg6,Ne5,Nxe5,dxe5,Nc5,Qd1,a4,Rc1,Nb3,Rc6,Rb6,Rxb6,Qxb6,Nc2,Kg7,Nb4,Rc8,e3,Qc7,f4,gxf4,exf4,Qb6+,Kh1,Qf2,Rf1,Qxb2,f5,Rc1,Qf3,Nd2,Qf2,Nxf1,Qxb2', 'Ng3#', 'https://lichess.org/training/cchKA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CCIBp', 'Blitz', 'gamesou', 1593, 'HaRLey29', 1632, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,Nf6,e5,Nd7,Qe2,Be7,Bg2,f6,exf6,Nxf6,O-O,O-O,Ne5,Qb6,Ndf3,Bd6,Nxc6,bxc6,Rb1,Ba6,Bh3,Rfe8,Bxe6+,Kf8,Ng5,Bc8,f4,h6,f5,hxg5,Bxg5,Bxe6,fxe6,Ke7,Qh5,Rf8,Bxf6+,Rxf6,Rxf6,gxf6,Re1,Be5', 'Qf7+,Kd6,Qd7#', 'https://lichess.org/training/CCIBp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ccISr', 'Rapid', 'Maciek07', 1819, 'kkosif', 1631, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,Bh6,b6,Bxg7,Bc5,Qc3,Qg5,Bxh8,Qf4,Qf3', 'Qc1+,Qd1,Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/ccISr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ccix7', 'Blitz', 'Chamboff', 1536, 'ferhatoren', 1523, 'e4,e5,Nc3,Bc5,g3,Nf6,Bg2,Ng4,Qxg4,O-O,Nge2,d5,Qf3,dxe4,Nxe4,Bb6,N2c3,Nc6,O-O,Nd4,Qd1,Bf5,d3,c6,Be3,Bxe4,Nxe4,c5,c3,Nf5,Qg4,Nxe3,fxe3,c4,d4,exd4,exd4,Re8,Rae1,Bxd4+,cxd4,Qxd4+,Kh1,Qxb2,Nf6+,Qxf6,Rxf6,Rxe1+,Rf1,Rxf1+,Bxf1,g6,Qxc4,Re8,Kg2,a6,Qc7,b5,Qc6,Re6,Qc8+,Kg7,Be2,Rxe2+,Kf3,Rxa2,Qc3+,Kf8,Qc8+,Kg7,Kf4,Rxh2,Kg5,Rg2,Qc3+,Kg8,Qc8+,Kg7,Kg4,a5,Qa6,Ra2,Qxb5,a4,Kg5,Rg2,Kf4,a3,Qe5+,Kf8,Qd6+,Kg7,Qxa3,Kh6,Qf3,g5+,Kf5,Ra2,Kg4,Ra4+,Kh3', 'g4+,Qxg4,Rxg4,Kxg4,Kg6', 'https://lichess.org/training/Ccix7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CCjwz', 'Classical', 'SA-Mouhamadou', 1834, 'MANDCOMAND', 1741, 'd4,Nf6,e3,e5,dxe5,Ne4,Qd4,Ng5,Bc4,Nc6,Qh4,Nxe5,Bb3', 'Ngf3+,Nxf3,Nxf3+,gxf3,Qxh4', 'https://lichess.org/training/CCjwz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cClg3', 'Rapid', 'Cherry_from_berry', 1721, 'iPhone0100', 1759, 'd4,f5,c4,Nf6,Nc3,d6,Bg5,e6,e3,Be7,Nf3,O-O,Bd3,a5,O-O,Na6,d5,e5,Bc2,c5,dxc6,bxc6,Bb3,Kh8,Qc2,Nc5,Rfd1,a4,Nxa4,Nxb3,axb3,c5,Nc3,Rxa1,Rxa1,e4,Ne1,Be6,Rd1,Qc7,f3,h6,Bh4,g5,Bg3,exf3,Nxf3,Ne4,Nxe4,fxe4,Nd2,Bf5,Rf1,Rf6,Nxe4,Bxe4,Qxe4,Rxf1+,Kxf1,Qd7,Qg6,Bf8,Ke2,Qg4+,Kd3', 'Qd1+,Kc3,Bg7+', 'https://lichess.org/training/cClg3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ccmRb', 'Rapid', 'GiorgK', 1770, 'tmaltz', 1761, 'd4,g6,c4,Bg7,Nf3,d6,e4,Bg4,Be2,e6,h3,Bxf3,Bxf3,Ne7,O-O,O-O,d5,exd5,cxd5,c6,Nc3,cxd5,exd5,Nf5,Be3,Nd7,Bg4,Nxe3,fxe3,Ne5,Be2,Qb6,Qd2,Bh6,Nd1,Rfe8,Rc1,Rac8,Rxc8,Rxc8,Kh1,Nd7,b3,Nc5,Qd4,Bg7,Qf4,f5,g4,Rf8,gxf5,Rxf5,Qc4,Re5,Bg4,Qd8,b4,Ne4,Rf4,Qe8', 'Be6+,Kh8,Rxe4,Rxe4,Qxe4', 'https://lichess.org/training/ccmRb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ccmvo', 'Rapid', 'desh355', 1718, 'Tantalosss', 1737, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,h6,h3,Na5,Bb3,Nxb3,axb3,d6,O-O,O-O,Na4,b5,Nxc5,dxc5,c4,Qe8,cxb5,Qxb5,Nxe5,Be6,Nc4,Rfd8,Qc2,Nd7,f4,Nb8,f5,Bxc4,bxc4,Qb7,Rf3,f6,h4,Nc6,Rg3,Nd4,Qd2,Nb3,Qxh6,c6,Rb1,Nd4,Kf2,Rd7,h5,Qb3,Qd2,Rad8,Ra1,Nxf5,Ra3,Qxa3,bxa3,Nxg3,h6', 'Nxe4+,dxe4,Rxd2+', 'https://lichess.org/training/ccmvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CCMyo', 'Rapid', 'Oderfla', 1727, 'jamesh', 1647, 'e4,e5,Nf3,Nc6,c3,Bc5,Bb5,a6,Bxc6,dxc6,Nxe5,Nf6,d3,O-O,O-O,Re8,Nf3,Bg4,Nbd2,Ba7,h3,Bh5,Qc2,c5,d4,cxd4,cxd4,Bxf3,Nxf3,Nxe4,Be3,Ng3,fxg3,Rxe3,Rad1,Qd6,Ne5,Rxe5,Kh1,Bxd4,Qb3,Rb5', 'Qxf7+,Kh8,Rxd4', 'https://lichess.org/training/CCMyo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CcnYI', 'Rapid', 'kwinto1986', 1776, 'FiveStar242', 1814, 'c4,Nf6,Nc3,e6,d4,Bb4,Bf4,c5,e3,d5,Nf3,O-O,Be2,Ne4,Qc2,Qa5,O-O,Bxc3,bxc3,Qxc3,Rfc1,cxd4,Nxd4,Qxc2,Rxc2,Nd7,Nb5,e5,Nc7,Rb8,Bg3,Nxg3,hxg3,dxc4,Rxc4,Nb6,Rb4,Bf5,g4,Bg6,f4,exf4,exf4,Rbc8,Nb5,f5,Nxa7,Ra8,Nb5,Nd5,Rd4,Ne3,Rd7,fxg4,Kf2,Nc2,Rc1,Rxa2,Rxb7,Rxf4+,Kg3,Rb4,Bc4+,Rxc4,Rb8+,Kf7,Nd6+,Ke6,Nxc4,Ra4,Rb6+,Kd5,Rxc2,Bxc2,Ne3+,Kc5,Rb7,Ra3,Rc7+,Kd4,Rxc2,h5,Kh4,Rxe3,Kxh5,Re4,Kg6,Kd3,Ra2,Re2,Rxe2', 'Kxe2,Kh5,g3,Kh4,Kf2', 'https://lichess.org/training/CcnYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ccq6g', 'Rapid', 'Malbec', 1911, 'Slodei13', 1970, 'c4,e5,Nc3,Nf6,g3,c6,Bg2,d5,cxd5,cxd5,d4,e4,Bg5,Nbd7,Nxd5', 'Qa5+,Nc3,Qxg5', 'https://lichess.org/training/ccq6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ccrGd', 'Classical', 'Vivan2007', 1801, 'vranishjoti', 1815, 'd4,e6,e4,d6,Bf4,a6,c4,h6,Nc3,b6,Nf3,Be7,Be2,Nd7,O-O,g5,Be3,h5,e5,g4,Nd2,dxe5,Qa4,Kf8,d5,Nc5,Qc2,Bg5,Nde4,Bxe3,fxe3,Nxe4,Qxe4,Ra7,Qxe5,Rh6,Ne4,Qe7,Rf4,f6,Raf1,Ke8,Nxf6+,Nxf6,Rxf6,Rxf6,Qxh5+,Rf7,Bxg4,c5,Qh8+,Qf8,Qxf8+,Rxf8,Bh5+,Ke7', 'd6+,Kxd6,Rxf8', 'https://lichess.org/training/ccrGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CcroV', 'Classical', 'Dilshod66', 1886, 'santoreinoaagg', 1802, 'd4,f5,Bf4,Nf6,e3,e6,Bd3,d5,Nf3,Bd6,Be5,Nbd7,c3,O-O,O-O,Ne4,Nbd2,Nxe5,dxe5,Be7,Nb3,Qe8,Qc2,Qa4,Qe2,c5,Bb5,Nxc3,bxc3,Qg4,h3,Qh5,c4,f4,cxd5,exd5,Rac1,Bxh3,gxh3,Qxh3,Nxc5,Bxc5,Rxc5,Rf5,Bd7', 'Qg4+,Kh1,Rh5+', 'https://lichess.org/training/CcroV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CcT9D', 'Blitz', 'Murmeltier28', 1666, 'cortoras35', 1646, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Bc5,d4,Bb6,Bxf4,Nf6,Nc3,O-O,O-O,d6,Na4,Na5,Nxb6,axb6,Bd3,Bg4,Qd2,d5,e5,Ne4,Qe3,Bf5,b4,Nc6,c4,Nxb4,cxd5,Nxd3,Qxd3,Qxd5,Nh4,g6,Nxf5,gxf5,Rac1,Rac8,Rf3,Kh8,Rh3,Rg8', 'Rxh7+,Kxh7,Qh3+,Kg6,Qh6#', 'https://lichess.org/training/CcT9D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CctIX', 'Blitz', 'Jorgitomgs', 2392, 'IM linusj', 2579, 'Nf3,Nf6,g3,g6,b3,Bg7,Bb2,O-O,Bg2,d5,c4,b6,O-O,Bb7,d4,dxc4,bxc4,c5,d5,Nbd7,Nbd2,e6,e4,exd5,exd5,Qc7,Qc2,Rfe8,Rfe1,Qd6,Ng5,Qf8,Bh3,Bc8,Nxf7,Rxe1+,Rxe1,Kxf7,Be6+,Ke7,Qa4,Kd8,Qc6,Rb8,d6,Ne8,Bxg7,Qxg7,Bh3,Qd4,Re7,Qxd6', 'Rxe8+,Kxe8,Qxd6', 'https://lichess.org/training/CctIX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cCvTs', 'Rapid', 'odracsoM', 1773, 'tajd', 1659, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,d6,Bg5,O-O,Bxf6,Bxf6,Nf3,Nd7,e3,e5,Nc3,Nb6,b3,Qe7,O-O,exd4,Nxd4,c5,Nde2,Bg4,Rc1,Rad8,Nd5,Nxd5,Bxd5,Be6,Nf4,g5,Nxe6,fxe6,Bg2,Rf7,Qg4,Kg7,h4,h6,h5,Rdf8,f4,Kh7,Be4+,Kh8,Bg6,Rg7,f5,exf5,Bxf5,Qxe3+,Kh1,Be5,Rce1,Qxg3,Qxg3,Bxg3,Re6,Bf4', 'Rxh6+,Kg8,Be6+', 'https://lichess.org/training/cCvTs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cCW0f', 'Rapid', 'kirpich', 1693, 'Vorobey77', 1669, 'c4,e5,Nc3,Nc6,e3,Nf6,d4,exd4,exd4,d5,Nf3,Be7,cxd5,Nxd5,Bc4,Be6,Bxd5,Bxd5,O-O,O-O,Re1,Re8,a3,Bf6', 'Rxe8+,Qxe8,Nxd5', 'https://lichess.org/training/cCW0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cCw16', 'Blitz', 'IamNeneu', 2399, 'Stefanskiy', 2471, 'd4,d5,Nc3,Nc6,Bf4,f6,Nf3,Bg4,e3,e5,dxe5,fxe5,Bg5,Be7,Bxe7,Ngxe7,Bb5,O-O,Be2,d4,exd4,exd4,Nb5,Bxf3,Bxf3,a6,Na3,Ne5,Be2,b5,O-O,c5,Nb1,Nd5,a4,Nf4,axb5,Qg5,g3,Nxe2+,Qxe2,Nf3+,Kg2,Qh5,Qe6+,Kh8,h3,Rae8,Qc6,Rf6,g4,Qf7,Qxc5,Qb7,Kg3,Ng5,Qxg5,Qf3+,Kh2,h6,Qh4,Qe2,Na3,Ref8,Rae1', 'Rxf2+,Qxf2,Rxf2+,Rxf2,Qxf2+', 'https://lichess.org/training/cCw16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cCx2n', 'Rapid', 'kindza', 1701, 'Personag', 1674, 'e4,e5,Bc4,Nf6,Nf3,Bc5,d4,exd4,Nxd4,Bxd4,Qxd4,Nc6,Qd1,d6,h3,O-O,Nc3,Re8,O-O,Nxe4,f3,Nxc3,bxc3,Qf6,Bb2,Qg5,Bd3,Bxh3,Rf2,Ne5', 'f4,Qg3,fxe5', 'https://lichess.org/training/cCx2n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CcxfF', 'Blitz', 'grandmaster112ksh', 1918, 'Gseliran', 1935, 'e4,e5,Bc4,Nc6,c3,Bc5,d4,exd4,cxd4,Nxd4,Be3,Ne6,Bxe6,Bxe3,Bxf7+,Kxf7,Qd5+,Ke8,fxe3,c6,Qh5+,Kf8,Ne2,Nf6,O-O,Qe8,Qc5+,Kg8,e5,Ne4,Qc4+,d5,exd6+,Qe6,Qd4,Nxd6,Nf4,Qe4,Qxd6,Qxe3+,Kh1,Bg4,Nc3,h5,Rae1,Qb6,Ng6,Rh6,Re6,Bxe6,Qxe6+,Kh7,Qf5,Rxg6,Ne4,c5,Ng5+,Kg8', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/CcxfF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ccYAT', 'Blitz', 'TobiWerner', 2092, 'mansour12', 2032, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Nf6,Nc3,Bb4,Qc2,d5,cxd5,exd5,e5,Ne4,Bd3,Nxc3,bxc3,Ba5,O-O,Nc6,e6,Bxe6,Nxe6,fxe6,Bxh7,Qh4,Bg6+,Ke7,h3,Bc7,Ba3+,Kd7,Qd2,Ne5,Bc2,Nc4,Qc1,Bf4,Qb1,b5,Bc1,Qg5,Bxf4,Qxf4,Qc1,Nd2,Rd1,Rxh3,Qxd2,Qh2+,Kf1,Qh1+,Ke2,Qxg2,Rg1,Qf3+,Ke1', 'Rh1,Rxh1,Qxh1+,Ke2,Qxa1', 'https://lichess.org/training/ccYAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cCZff', 'Blitz', 'Twokmarathon', 1896, 'valoh4wk', 1895, 'e4,e5,Nc3,Nf6,d3,c6,f4,d6,f5,d5,Bg5,Be7,h4,dxe4,dxe4,Qa5,Bxf6,Bxf6,Qd6,Nd7,O-O-O,Be7,Qd3,O-O,g4,Nc5,Qd2,Nxe4,Nxe4,Qxa2,Nc3,Bb4,Qd3,b5,Bg2,Bb7,Nb1,Rfe8,Qb3,Qa5,c3,Bc5,Rd7,Be3+,Nd2,Rad8,Rxb7', 'Qa1+,Kc2,Rxd2#', 'https://lichess.org/training/cCZff');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cd1lQ', 'Rapid', 'Stefan234', 2213, 'Hungry_Bear', 2147, 'e4,d6,d4,Nf6,Nc3,c6,f4,e5,dxe5,dxe5,Qxd8+,Kxd8,fxe5,Ng4,Nf3,Bc5,Bc4,Nd7,Bxf7,Ndxe5,Bg5+,Kc7,Nxe5,Nxe5,Bf4,Bd6,Bxe5,Bxe5,O-O-O,Bg4,Rd3,Rhf8,Bb3,Rad8,h3,Rxd3,cxd3,Bh5,g4,Be8,Ne2,Rf2,Re1,c5,Nc3,Bc6,Bd5,Rf3,Bxc6,bxc6,Kc2,Rxh3,Rf1,Bf6,g5,Bd4,Rf7+,Kd6,Rxa7,Rh2+,Kb3', 'c4+,Kxc4,Bxa7', 'https://lichess.org/training/Cd1lQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cd5f4', 'Rapid', 'TheDistorter', 1667, 'Shekofteh', 1647, 'd4,d5,f4,e6,Nf3,h6,e3,Nf6,Bd3,Nc6,O-O,Bd6,Ne5,Nxe5,dxe5,Be7,exf6,Bxf6,c3,g5,fxg5,hxg5,e4,Qd6,Rxf6,Qxh2+,Kf2,Rh3,Bxg5,Rg3,Qg1,Qh5,Kxg3,Qxg5+,Kh2', 'Qh4#', 'https://lichess.org/training/Cd5f4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cd5Sd', 'Rapid', 'ssn09', 1598, 'Raj07', 1552, 'e4,e6,d4,d5,e5,Nc6,Nf3,Nb4,a3,Nc6,Nc3,Be7,Bd3,Bh4,Be3,Qe7,Qd2,Nh6,Bxh6,gxh6,Qxh6,Bxf2+,Kxf2,Bd7,Nb5,O-O-O,Qg5,Qf8,Qf6,h5,Ke2,Rh6,Qh4,f5,Rhf1,Qg7,Rf2,Be8,Rg1,Rg6,h3,a6,Nc3,Qh6,g4,hxg4,hxg4,Qxh4,Nxh4,Nxd4+,Ke3,Rh6,Kxd4,Rxh4,Ke3,fxg4,Rf6,Rh3+,Kd2,Bd7,Rxg4,Rh2+,Be2,Rdh8,Rfg6,b5,Rg8+,Rxg8,Rxg8+,Kb7,Rg7,Kc6,Kc1,d4,Bxb5+,axb5,Ne4,Bc8,Rg6,Kd5,Ng5,Kxe5,Rxe6+,Bxe6,Nf3+,Kf4,Nxh2,Kg3,Nf1+,Kf2,Nd2,c5,Nb3,Bxb3,cxb3,Ke3,Kc2,d3+,Kd1,d2,a4,b4,a5,c4,a6', 'c3,bxc3,bxc3,Kc2,Ke2,a7,d1=Q+', 'https://lichess.org/training/Cd5Sd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cD8BF', 'Blitz', 'Testgreaam', 2264, 'sem_schweiz', 2323, 'e4,d6,d4,Nf6,Nc3,g6,f3,Bg7,Be3,c6,Qd2,b5,O-O-O,a5,Kb1,a4,Bh6,Bxh6,Qxh6,b4,Nce2,b3,cxb3,a3,Qc1,axb2,Qxb2,Qa5,Nc3,O-O,h4,h5,Nh3,Bxh3,Rxh3,Nbd7,Bd3,Rfb8,Bc2,c5,dxc5,Nxc5,f4,Qb4,e5,dxe5,fxe5,Nfe4,Nxe4,Nxe4,Rd4,Qe1+,Rd1,Nd2+,Kc1,Nxb3+,Bxb3,Qe4,Rhd3,e6,Qd4,Rc8+,Kb2,Qxg2+,R1d2,Qf1,Rd1,Qe2+,R3d2,Qa6,Rc1', 'Qa3+,Ka1,Rxc1#', 'https://lichess.org/training/cD8BF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CD9Jx', 'Blitz', 'IM larso', 2480, 'GM Urkis', 2178, 'd4,Nf6,Bg5,d5,Nc3,c5,e3,Nc6,Nf3,cxd4,exd4,Bg4,Be2,e6,O-O,Be7,h3,Bxf3,Bxf3,Qb6,Ne2,Qxb2,Rb1,Qxa2,Rxb7,O-O,Qd3,h6,Bh4,Rfe8,Rfb1,Qa5,Bg3,Qd8,Qa6,Rc8,c3,Bd6,Bh4,g5,Bg3,Bxg3,Nxg3,Re7,R7b2,Rec7,Nh5,Nxh5,Bxh5,Kg7,Qe2,Qf6,Rd2,Ne7,Ra1,Rxc3,Rxa7,Rc1+,Kh2,Rb1,Ra3,Qf4+,g3,Rcc1,gxf4', 'Rh1+,Kg3,Rbg1+,Kf3,Rxh3#', 'https://lichess.org/training/CD9Jx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CD9zg', 'Rapid', 'seagul', 1859, 'd0berm4n', 1863, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be2,Nf6,g4,Bb4,Bd3,d5,exd5,Nxd5,Bd2,Bxc3,bxc3,Nxc3,Qf3,Nd7,Bxh7,Qe5+,Kf1,Qxd4,Bxc3,Qc4+,Bd3,Qxc3,Rb1,Ne5', 'Bb5+,axb5,Qxc3', 'https://lichess.org/training/CD9zg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cDA6T', 'Rapid', 'simonriwatson', 1619, 'MarceloXBA', 1626, 'e4,e5,Nf3,Qf6,h3,Bc5,d3,h6,Be3,Bd6,Nc3,c6,d4,Ne7,d5,c5,Nb5,a6,Nxd6+,Qxd6,Qd2,b5,a3,Bb7,O-O-O,f5,exf5,Nxf5,g4,Nxe3,Qxe3,O-O,Bg2,a5,Rhe1,Na6,Qxe5,Qg6,Qe4,Qf7,Qe7,Qf4+,Re3,Rae8,Qxd7,Rxe3,fxe3,Qxe3+,Kb1,Rf7,Qxb5,Qf2,Qf1,Qg3,d6,Rd7,Qe2,Rxd6,Rxd6,Qxd6,c3,Bc6,Ka2,Bd5+,b3,a4,c4,axb3+,Kxb3,Qb6+,Kc3,Qa5+,Kc2,Bf7,Ne5,Qa4+,Kb2,Be6,Bc6,Qa5,Bd7,Qb6+,Ka2,Bxd7,Nxd7,Qd6,Ne5,Nc7,Nd3,Ne6,Qe4,Qh2+,Kb1,Nd4,Qe8+,Kh7,Qe4+,Kg8,Qa8+,Kf7,Qa7+,Kg6,Qb6+,Kh7,Nxc5,Qc2+,Ka1,Qc1+,Qb1+', 'Nc2+,Ka2,Qxa3#', 'https://lichess.org/training/cDA6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cdaUu', 'Rapid', 'Ritesh8', 2038, 'ttuka', 2136, 'e4,c5,Nc3,g6,Nf3,Bg7,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd2,Nf6,Be2,O-O,O-O,d5,e5,Nd7,f4,e6,Bf3,Ba6,Be2,Qb6+,Kh1,c5,Bxa6,Qxa6,a4,Rab8,b3,Rb4,Nxd5,exd5,Bxb4,cxb4,Qxd5,Nb6,Qd6,Qe2,a5,Nc8,Qxb4,Qxc2,Qb7,h5,b4,h4,Qd7,h3,Qxh3,Ne7,Qd7,Nf5,Qxa7,Rc8,a6,Bf8,Qd7,Ne3,Rg1,Bxb4,e6,Nf5,Qxf7+,Kh8,a7,Ra8,Qb7,Qc8,Qxb4,Kg7,e7', 'Ng3+,hxg3,Qh8#', 'https://lichess.org/training/cdaUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CDb6g', 'Blitz', 'jugador3000', 1625, 'PabloCz', 1647, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,d3,Bc5,c3,d6,Bg5,O-O,Nbd2,h6,Bh4,Bg4,h3,Bh5,Nf1,a5,Ng3,Bxf3,Qxf3,g5,Bxg5,hxg5,h4,g4,Qf5,Kh8,h5,Rg8,h6,Nh7,Nh5,Rg5,Qxf7,Qf8,Qxc7,Qxf2+,Kd1,Be3', 'Qg7+,Rxg7,hxg7#', 'https://lichess.org/training/CDb6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cdbHr', 'Rapid', 'mmh226', 2112, 'jp-savvas', 2164, 'd4,Nf6,c4,e6,Nc3,Bb4,Bf4,O-O,e3,d5,Qc2,Re8,Nf3,c5,Rd1,cxd4,exd4,Nc6,Be2,Ne4,O-O,Nxc3,bxc3,Bd6,Bxd6,Qxd6,Rfe1,Bd7,Ng5,g6,Qd3,Rac8,Qh3,h5,Bxh5,Qf4,Bxg6,Qxg5', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/cdbHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cdbLj', 'Blitz', 'Igorillazzz', 1666, 'Abdulla72', 1654, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nf6,h3,Qh5,O-O,Bxh3,Nh2,Qg6,Bf3,Nc6,d3,e6,Bxc6+,bxc6,Qf3,Bf5,Nc3,O-O-O,Be3,Bd6,Qxc6,Bxh2+,Kxh2,Ng4+,Kg1,Qh5,Rfc1,Qh2+,Kf1,Qh1+,Ke2,Qh5,f3,Ne5,Qa6+,Kd7,Bc5,Ke8,Nb5,Nxf3,Nxc7+,Kd7,gxf3,Qh2+,Kd1,Qxc7,Qxa7,Qxa7,Bxa7,Kd6,Be3,h5,Ke2,f6,Rg1,g5,Rac1,e5,c4,Kc6,Rcd1,g4,b4,gxf3+,Kxf3,Bg4+,Ke4,Bxd1,Rxd1,h4,Kf5,Rdf8,Rg1,h3,Rg7,h2', 'b5+,Kd6,c5+,Kd5,Rd7#', 'https://lichess.org/training/cdbLj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CDBog', 'Rapid', 'DSilveira', 1813, 'stanfieldjes', 1754, 'd4,Nf6,Bf4,d5,e3,Nc6,Nf3,e6,Nbd2,Be7,c4,b6,Rc1,Bb7,Bd3,Nb4,Qa4+,Nc6,O-O,O-O,cxd5,Nb4,Bb1,Nbxd5,Be5,c5,Qb3,cxd4,exd4,Rc8,Ne4,Nxe4,Bxe4,Ba8,Nd2,Nf6,Bxf6,Bxe4,Bxe7,Qxe7,Nxe4,Rcd8,Rfe1,Rxd4,Rcd1,Rfd8,Rxd4,Rxd4,Qc3,Qb4,Qc8+,Qf8,Qxf8+,Kxf8,Nc3,Rd2,Rb1,f5,g3,e5,h4,h6,b3,g5,hxg5,hxg5,Kg2,f4,Re1,Rc2,Nd5,Rc5,Nf6,Kf7,Ng4,Ke6,Rd1,Rc2,a4,Rb2,Rd3,a5,Nh6,e4,Rc3,e3,Kf3,Rxf2+,Ke4,Rd2,Ng4', 'e2,Rc1,Rd1', 'https://lichess.org/training/CDBog');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cdbZ4', 'Blitz', 'TheMeg', 1891, 'Taiwanchik', 1896, 'e4,c5,Bc4,e6,Nf3,a6,c3,b5,Bb3,Bb7,O-O,d6,Re1,Nd7,d4,Be7,d5,e5,c4,b4,Nbd2,Ngf6,Nf1,a5,Ng3,a4,Bxa4,O-O,Bb3,Re8,Bg5,Bf8,Nf5,h6,Bh4,g6,Ng3,g5,Nxg5,hxg5,Bxg5,Bg7,Nf5,Nb6,Re3,Kf8,Rg3,Bc8,Nxg7,Kxg7,Bh6+,Kxh6,Qd2+,Kh7,Qg5,Rg8', 'Qh4+,Nh5,Qxh5#', 'https://lichess.org/training/cdbZ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cDDq0', 'Blitz', 'Amir_shafiei2007', 2195, 'WIM chessbia', 2251, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,Nc3,O-O,O-O,d6,Bg5,Bg4,h3,Bh5,Nd5,Nd4,Nxe7+,Qxe7,g4,Bg6,Nxd4,exd4,Qf3,c5,Bd5,Rae8,h4,h6,Bxf6,Qxf6,Qxf6,gxf6,f4,Rb8,h5,Bh7,f5,Kh8,Rf2,Rg8,Rg2,Rg5,Bxf7,Bg8,Bg6,Kg7,c3,dxc3,bxc3,Rb7,d4,Bc4,dxc5,dxc5,Rd1,a5,Kh2,b4,cxb4,cxb4,Kh3,a4,Rgd2,Bb5,Rb2,Bc6,Re2,b3,axb3,Rxb3+,Kh4,Rb4,Rc1,Bxe4,Rc7+,Kg8,Rd2,Bd5,Rxd5,Rbxg4+,Kh3,Rg3+,Kh2,Rg2+,Kh3,R2g3+,Kh4', 'R5g4#', 'https://lichess.org/training/cDDq0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CddsL', 'Blitz', 'borilo', 1607, 'Chipenya1', 1615, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Nc3,Nc6,Bb5,a6,Bxc6,Bxc6,Nxc6,bxc6,b3,Nf6,Bb2,Be7,O-O,O-O,f4,Nd7,Ne2,h6,Ng3,Nc5,Qg4,Bf6,Bxf6,Qxf6,Rae1,Rfe8,Nh5,Qg6,Qxg6,fxg6,Ng3,h5,b4,h4,bxc5,hxg3,hxg3,dxc5,Kf2,Rab8,Rh1,Rb2,Re2,Rxa2,Kf3,Ra3+,Kg4,Kf7,e5,Rc3,Rd2,a5,f5,gxf5+,Kxf5,Re3,Rd7+,Kg8,Rxc7,R3xe5+,Kf4,Re4+,Kf5,R4e5+,Kf4,R8e6,Rc8+,Re8,Rxc6,a4,Ra6,Re4+,Kf5', 'R8e5+,Kg6,Rg4#', 'https://lichess.org/training/CddsL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CDEb1', 'Rapid', 'sdatar', 1679, 'Fischer-Girl', 1742, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d3,h6,Nf3,Bg4,O-O,Be7,Nc3,c6,h3,Bh5,Bf4,O-O,Bxb8,Rxb8,Qe1,Bxf3,gxf3,Qd7,Ne2,Rfe8,Kg2,Qf5,Ng3,Qg5,Rg1,Bd6,Qd1,Bxg3,fxg3,Nh5,Kf2,Qe3+,Kg2,Qc5,Re1,Qd6,Rxe8+,Rxe8,f4,Qg6,Qg4,Re2+,Qxe2', 'Nxf4+,Kf3,Nxe2', 'https://lichess.org/training/CDEb1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cdEmF', 'Rapid', 'Gagagsgsaya', 1623, 'Ahmad-Hasan', 1625, 'e4,e6,d4,d5,exd5,exd5,Bd3,c5,dxc5,Bxc5,Nf3,Bg4,h3,Bh5,g4,Bg6,Bxg6,hxg6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Qe7+,Qe2,Qxe2+,Kxe2,Nc6,Kd2,Nf6,Rhe1+,Kd7,Ne5+,Nxe5,Bxe5,Rxh3,Re2,Ne4+,Kd1,Rh1+,Re1,Nxf2+,Kd2,Rxe1,Kxe1,Nxg4,Bxg7,Re8+,Kd2,f6,Rg1,f5,Bd4,Nh2,Rxg6,Nf3+,Kd3,Re4,Bxa7', 'Ne5+,Kd2,Nxg6', 'https://lichess.org/training/cdEmF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cDfcn', 'Rapid', 'celomelo123', 1918, 'bk1p', 1807, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qf3,Nc6,Nxc6,bxc6,O-O-O,Be7,e5,Nd5,Bxe7,Qxe7,Nxd5,cxd5,exd6,Qxd6,Bc4,O-O,h4,Bb7,h5,Rfc8,Bd3,Rab8,h6,g6,Qf6,Qf8,f4,Rc6,g4,Rbc8,Rdg1,a5,Qd4,Ba6,f5,Bxd3,Qxd3,e5,Qxd5,Rxc2+,Kb1,R8c5,Qb3,Rc6,fxg6,hxg6,h7+,Kh8,Rf1,R2c4,Qe3,f6,Qd3,Rxg4,Qd5,Rd6,Qxe5', 'Rd1+,Rxd1,fxe5', 'https://lichess.org/training/cDfcn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CDGKt', 'Classical', 'landa666', 1730, 'ted6214', 1774, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,bxc6,Ba4,Nf6,O-O,Be7,Re1,O-O,Nc3,Re8,Bg5,h6,Bh4,Nh7,Bg3,f5,Bb3+,Kh8,Qh5,Nf6,Qg6,fxe4,Nxe4,Nxe4,Rxe4,Rf8,Be6,Rf6,Qg4,Bxe6,Rxe6,Rxe6,Qxe6,Bf6,Rb1,Rb8,b3,Qe8,Re1,Qxe6,Rxe6,Kg8,Kf1,Kf7,Re2,Rb5,Ke1,Rd5,Re3,Rc5,Kd2,Ra5,a4,Rd5+,Ke2,Rc5,c4,Rf5,Rd3,c5,Rf3,Rxf3,Kxf3,Ke6,Ke4,Bc3,f4,g6,Bf2,h5,Be3,c6,h3,d5+,Kd3,d4,Bc1,Bb4,g4,hxg4,hxg4,Be1,Ke4,Bg3,Bd2,Bh2,Kd3,Bg3,Ke4,Bh2,Kf3,Bg1,Ke4,Bf2,Ba5,a6,Bb6,Kd6,f5,gxf5+,Kxf5', 'd3,Ba5,Be3', 'https://lichess.org/training/CDGKt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cDGW8', 'Rapid', 'DestructU', 1870, 'Pink64', 1854, 'd4,d5,c4,e6,e3,Bb4+,Bd2,Bxd2+,Nxd2,Nf6,Ngf3,b6,Bd3,Bb7,cxd5,Nxd5,O-O,Nd7,e4,N5f6,Re1,O-O,Rc1,c5,e5,Nd5,a3,cxd4,Nxd4,Nc5,Bb1,Rc8,Qc2,g6,Qd1,Ba6,b4,Nd3,Rxc8,Qxc8,Bxd3,Bxd3,Qb3,Ba6,b5,Bb7,Nc4,Qc5,Nd6,Qxd4,Nxb7,Rc8,Nd6,Rc3,Qb2,Qc5,g3', 'Rc2,Qxc2,Qxc2', 'https://lichess.org/training/cDGW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CdGXE', 'Blitz', 'Tarantolla', 2489, 'NM pneumatico94', 2448, 'Nf3,g6,c4,Bg7,Nc3,e5,d3,d6,g3,Nc6,Bg2,f5,O-O,Nge7,Bg5,h6,Bxe7,Nxe7,Nd2,O-O,Rc1,g5,b4,f4,b5,g4,a4,h5,a5,h4,a6,Rb8,axb7,Bxb7,Nce4,hxg3,fxg3,fxg3,Nxg3,Bxg2,Kxg2,Bh6,e3,Qd7,Qe2,d5,Nh5,Qe6,cxd5,Nxd5,Rc6,Nxe3+,Kg1,Rxf1+,Nxf1,Qxc6,bxc6,Rb1,Ng3,Kh7,Kf2,Nd1+,Kg2', 'Rb2,Qxb2,Nxb2', 'https://lichess.org/training/CdGXE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CdiHK', 'Rapid', 'ali_sameni', 1663, 'mialn999666', 1687, 'e4,e5,Bc4,Qh4,Qf3,Nf6,d3,d6,h3,c6,g3,Qh5,Qxh5,Nxh5,Nf3,d5,exd5,cxd5,Bxd5,Bb4+,c3,Bc5,Ng5,Nf6,Bxf7+,Ke7,Bc4,Nc6,O-O,h6,Nf3,Bxh3,Re1,Rae8,Nxe5,Ng4,Nxg4+,Kd8,Ne3,Ne5,b4,Nf3+,Kh1,Nxe1,bxc5,Rhf8,Kh2,Bf5,Nxf5,Rxf5,Na3,Rxf2+,Kh3,Re4,Bf4,g5,Bd6', 'g4+,Kh4,Rh2#', 'https://lichess.org/training/CdiHK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cDiII', 'Rapid', 'vildeR', 1799, 'mihbell', 1819, 'e3,d5,c4,e6,Nf3,Nf6,Qb3,c5,cxd5,exd5,Bb5+,Bd7,Be2,Nc6,Qxb7,Rb8,Qa6,Rb6,Qa3,c4,Qc3,Ne4,Qc2,Nb4,Qd1,Ra6,O-O,Ba4,b3,Bxb3,axb3,Rxa1,bxc4,Rxb1,cxd5,Nxd5', 'Qa4+,Qd7,Qxe4+', 'https://lichess.org/training/cDiII');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CDn90', 'Rapid', 'Chipschits', 2192, 'babljak01', 2100, 'e4,c6,Nc3,d5,Nf3,Nf6,exd5,Nxd5,Nxd5,cxd5,d4,Nc6,h3,f6,Bd3,e5,dxe5,fxe5,Bb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/CDn90');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CDOl9', 'Classical', 'Kristoffer1', 2012, 'Polo60', 1856, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,Ngf6,O-O-O,Be7,Qe2,Qa5,Kb1,Nd5,Bd2,Qb6,Ne4,Ba3,b3,a5,c4,a4,Qd3,axb3,axb3,Nb4,Qc3,Qa5,d5,Bc1,Qxb4,Bxd2,Qxd2', 'Qa1+,Kc2,Ra2+,Kd3,Rxd2+', 'https://lichess.org/training/CDOl9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CdPid', 'Classical', 'Mythd', 1716, 'a_pawn_for_the_king', 1730, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Bg4,f3,Bd7,Bc4,e5,Nf5,Bxf5,exf5,Be7,O-O,Nc6,Nd5,O-O,Nxe7+,Nxe7,f4,Nxf5', 'fxe5,Qb6+,Kh1,dxe5,Rxf5', 'https://lichess.org/training/CdPid');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CdPXZ', 'Rapid', 'chesslawyer_94', 1796, 'gardbell', 1780, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bg5,Be7,Qd2,a6,O-O-O,O-O,Bc4,Qc7,Bb3,b5,a3,Nc6,f3,Na5,Ba2,Nc4,Bxc4,Qxc4,h4,Bd7,h5,b4,axb4,Qxb4,h6,g6,Rhe1,e5,Nb3,a5,Nd5,Nxd5,Bxe7,Nxe7,Qxd6,Qxd6,Rxd6,Bb5,Red1,a4,Nc5,a3,bxa3,Rxa3,Kb1,f5,Nd7,Rfa8,Nf6+,Kf7,Kc1,Ra1+,Kd2,Rxd1+,Kxd1,Rc8,Nxh7,Kg8,Nf6+,Kh8,Re6,Rc7,Rxe5,Ba4,Ra5,Bc6,Rc5,Ng8,Nxg8,Kxg8,exf5', 'Bxf3+,gxf3,Rxc5', 'https://lichess.org/training/CdPXZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CdrWM', 'Rapid', 'TrickMeIfYouCan', 1901, 'sakkariini', 1928, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bg5,Qa5+,Bd2,Qe5,Nb3,Nxe4,Be2,Qxb2,O-O,Be7,f3,Nxd2,N1xd2,Nc6,Nc4,Qc3,Nd6+,Bxd6,Qxd6,Qe3+,Rf2,Qe5,Qa3,d6,Rd1,O-O,Rxd6,Rd8', 'Rxd8+,Nxd8,Qe7,Bd7,Qxd7', 'https://lichess.org/training/CdrWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cdsvG', 'Blitz', 'sash_79', 1962, 'Jddxmilan', 1860, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be3,Nc6,Qd2,Nf6,f3,Bb4,O-O-O,b5,g4,Bb7,h4,Rc8,h5,d6,g5,Nd7,Kb1,Nde5,f4,Nxd4,Bxd4,Nf3,Qe3,Nxd4,Qxd4,e5,fxe5,Bc5,exd6,Bxd4,dxc7,Bxc3,bxc3,Rxc7,Bd3,Rxc3,Kb2,b4,Rhe1,O-O,e5,Re8,g6,hxg6,hxg6,fxg6,Bxg6,Re6,Bf5,Re8,e6,a5,e7,Rc7,Be6+,Kh7,Bf5+,Kh8,Rh1+,Bxh1', 'Rxh1+,Kg8,Be6#', 'https://lichess.org/training/cdsvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cdswT', 'Rapid', 'KermitV', 1616, 'Der_Erlkonig', 1677, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Nf3,Nc6,c3,O-O,Bd3,b6,O-O,Ne7,Ne5,Ng6,Re1,Nxe5,Rxe5,Rd8,Qh5,h6,Rae1,Bb7,R1e3,Rd5,Rf3', 'Rxe5,dxe5,Bxf3', 'https://lichess.org/training/cdswT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CdTkV', 'Rapid', 'titoudesfamilles', 2128, 'Imperatore', 2188, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,Bxg5,hxg5,Qxg5,Nh3,Qe7,Qg4,f5,Qh5+,g6,Qh6,Qf8,Ng5,Qxh6,Rxh6,Nf8,Nb5,Na6,c4,Bd7,cxd5,exd5,Nc3,Nb4,Kd2,Be6,Nb5,Na6,Rc1,Bd7,Nxc7+,Nxc7,Rxc7,Rb8,g3,a6,Bg2,Bc6,e6,Rg8,e7,Nd7,Nxh7,Kxe7,f4,Kd8,Rxd7+,Bxd7,Nf6,Rg7', 'Rh8+,Kc7,Nxd5+,Kd6,Rxb8', 'https://lichess.org/training/CdTkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cDTPQ', 'Blitz', 'maki1988', 2378, 'IM denis6917', 2486, 'Nf3,Nf6,c4,g6,d4,Bg7,Nc3,O-O,e4,d6,Be2,e5,O-O,Nc6,d5,Ne7,b4,a5,bxa5,Rxa5,Nd2,c5,Nb3,Ra6,a4,Ne8,a5,f5,f3,Nf6,Qc2,Nh5,Ba3,Nf4,Nxc5,dxc5,Bxc5,Rf7,Bb6,Rxb6,axb6,Qxb6+,Kh1,fxe4,fxe4,Bf8,Nb5,Qe3,Bf3,g5,Ra8,Neg6,Rxc8,Nh4,Nd6,Rg7,Nf5,Nxf5,exf5,g4,Be4,g3,d6,gxh2,d7,Rxd7,Bd5+,Rxd5,cxd5,Ne2,Rxf8+,Kxf8,Qc8+,Kf7,Qe6+,Kf8,Ra1', 'Qg1+,Rxg1,hxg1=Q#', 'https://lichess.org/training/cDTPQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cDVjP', 'Rapid', 'vscenev', 1785, 'radhialharazi', 1907, 'd4,d5,e4,e6,Be3,c6,Bd3,Nf6,Nc3,Bb4,e5,Bxc3+,bxc3,Nfd7,f4,Qa5,Bd2,c5,Nf3,c4,Be2,Qd8,O-O,a6,f5,exf5,Ng5,h6,Nxf7,Kxf7,Rxf5+,Kg8,Bh5,Nf8,Bf7+,Kh7,Qg4,Bxf5,Qxf5+,g6', 'Bxg6+,Nxg6,Qf7#', 'https://lichess.org/training/cDVjP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CDvK2', 'Classical', 'impacto37', 1677, 'jeffcohen', 1726, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Ne4,Bc4,Nxf2,Kxf2,Bc5+,Be3,Bxe3+,Kxe3,Qg5+,Kf3,Qh5+,g4,Qh3+,Kf4,Qh6+,Kg3,O-O,Nc3,d6,Re1,dxe5,Rxe5,Be6,Bxe6,fxe6,Qd7', 'Qf4+,Kg2,Qxe5', 'https://lichess.org/training/CDvK2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cdwzy', 'Rapid', 'JohnPye7', 1611, 'CrowChess', 2029, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,Na5,Bd5,c6,Bb3,Nxb3,axb3,a6,Nge2,Bc5,Na4,Ba7,Be3,d5,Bxa7,Rxa7,b4,dxe4,dxe4,Qxd1+,Rxd1,Nxe4,O-O,b5,Nac3,Nxc3,Nxc3,Ke7,Rfe1,f6,f4,Bg4,Rd2,Rd7,Rxd7+,Kxd7,fxe5,Re8,Re4,Bf5,Rd4+,Kc7,exf6,gxf6,Rf4,Bxc2,Rxf6,Re7,Kf2,Bd3,Kf3,Bc4,g3,Re1,Kg4,Be6+,Kg5,Re5+,Kh4,Bc4,Rh6,Re7,g4,Kb6,Kg5,Re5+,Kf4,Re7,h3,a5,bxa5+,Kxa5,Rxc6,Kb4,Kg5,Kb3,Rb6,Re5+,Kf4,Rc5,g5,Kxb2', 'Na4+,Ka3,Nxc5', 'https://lichess.org/training/Cdwzy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cdxTn', 'Rapid', 'vorty', 1783, 'chicson', 1793, 'd4,d5,Bf4,Nf6,e3,a6,Nd2,Nc6,c3,e6,Bd3,h6,h3,Bd6,Bxd6,Qxd6,Ngf3,O-O,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qe7,Qb3,c6,Rad1,Be6,Nd4,Rab8,Rfe1,c5,Nxe6,Qxe6,Qc2,c4,Bf5,Qe5,f3,Rfd8,e4,g6,Bg4,h5,exd5,Qg5,f4,Qxf4,Bf3,Rd6,Rd4,Qg3,Re3,Rbd8,Qd2,Kg7,Bxh5,Qg5,Bf3,Nxd5,h4', 'Qxe3+,Qxe3,Nxe3', 'https://lichess.org/training/cdxTn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cDxyq', 'Rapid', 'itod', 1778, 'slaven-popara', 1744, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Bd3,b6,Nge2,Bb7,a3,Nbd7,b4,Be7,Bb2,O-O,O-O,c5,bxc5,bxc5,cxd5,Nxd5,Be4,Rb8,Rb1,Nxc3,Nxc3,Bxe4,Nxe4,cxd4,Bxd4,Rxb1,Qxb1,Qa8,Qd3,Qd5,Rd1,Nf6,Nxf6+,gxf6,Bxa7,Qxd3,Rxd3,Ra8,Bd4,e5,Bb2,Rb8,Rd2,Bxa3,Rd1,Rxb2,g3,Kg7,Rd3,Bb4,Rd1,f5,f4,exf4,exf4,Bc5+,Kh1,Rf2,Rd5,Rf1+,Kg2,Rg1+,Kh3,Be7,Rxf5,Re1,Kg4,Kg6,Rd5,Re2,h4,Re6', 'f5+,Kf6,fxe6', 'https://lichess.org/training/cDxyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cdYPg', 'Classical', 'melmelmelendez', 1884, 'anzawa', 1878, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nc3,Nc6,Nf3,Bg4,Be3,e5,Be2,Be7,d5,Nb4,O-O,O-O,Nxe5,Bxe2,Qxe2,Bd6,Nf3,f5,Bxb6,axb6,e5,Bc5,Rfe1,Nxd5,Nxd5,Qxd5,e6,Rfe8,Rad1,Qxa2,Qe5,Qc4,Qxc7', 'Bxf2+,Kxf2,Qxc7', 'https://lichess.org/training/cdYPg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cDYR3', 'Blitz', 'girayhann', 1695, 'yayagraf', 1703, 'e4,e6,Nf3,c6,d4,Qb6,Nc3,Nf6,Bd3,Bb4,a3,Bxc3+,bxc3,d5,e5,Nfd7,O-O,c5,Be3,c4,Be2,h6,Rb1,Qa5,Bd2,Qxa3,Ra1,Qe7,Qb1,b6,Qb5,a5,Bc1,Ba6,Qb1,Nc6,Ba3,Qd8,Re1,b5,h3,b4,cxb4,axb4,Bxb4,Nxb4,Qxb4,Rb8,Qd6,Rb6,Qa3,Qe7,Qc3,O-O,Qd2,c3,Qe3,Bxe2,Rxe2,Rc8,Ree1,Nf8,Qd3,Ng6,Reb1,Qb7,Re1,Rb2,h4,Ne7,g4,g6,g5,h5,Nh2,Nf5,Qd1,Qb5,Nf3,Qc4,Rb1,Rxb1,Qxb1,Nxd4,Nxd4,Qxd4,Qb7,Qxh4,Qxc8+,Kg7,Qd8,Qg4+,Kf1,Qh3+,Ke2,Qg4+,Kd3', 'Qc4+,Ke3,Qe4#', 'https://lichess.org/training/cDYR3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ce0fZ', 'Rapid', 'Heisenberg3', 2043, 'Yrishio', 2119, 'd4,d5,Bf4,Bf5,c4,e6,Nc3,c6,Qb3,Qb6,c5,Qxb3,axb3,Nf6,b4,a6,b5,Nh5,Be5,f6,Bc7,Kd7,Bb6,e5,e3,Be7,h3,exd4,exd4,Nf4,Kd2,Bg6,g3,Ne6,Nge2,Bd8,Bxd8,Kxd8,b6,Nd7,f4,Ke7,g4,Bf7,h4,Rae8,f5,Nef8,Bg2,Kd8,Rae1,g6,Nf4,Rxe1,Rxe1,h5,gxh5,gxf5,Bf3,Rg8,Nce2,Ne6,Nxe6+,Bxe6,Nf4,Bf7,Ke3,Nf8,b4,Kd7,Kf2,Ne6,Nxe6,Bxe6,Ke3,Bf7,Kf4,Rh8,Kxf5,Bxh5,Bg2,Rf8,Bh3,Bf3,Re6,Be4+,Kf4,f5,Re5,Rh8,Kg5,Rg8+,Kf6,Rh8,Re7+,Kc8,Rc7+,Kb8,Rf7,f4,Kg5,f3,h5,Rg8+,Kf6,Rh8,Bg4,Rh6+,Kg7,Rh7+,Kf6,Rxf7+,Kxf7,f2,Be2', 'Bf3,Bf1,Bxh5+', 'https://lichess.org/training/Ce0fZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cE0hG', 'Rapid', 'President_DonaldDuck', 1900, 'sanaa2016', 1845, 'e4,e6,d4,d5,e5,c5,c3,c4,Nf3,Ne7,Bg5,Nbc6,Be2,g6,Qd2,Qb6,Bf6,Rg8,Na3,Nf5,Nb1,Bd7,g4,Nfe7,O-O,O-O-O,Na3,Bg7,Bxg7,Rxg7,Rab1,h5,g5,Nf5,Nc2,Rh8,h4,Qd8,Ne3,Nce7,b3,Nxe3,fxe3,Nf5,bxc4,Nxh4,Nxh4,Qxg5+,Ng2,h4,Rf4,f5,Kf2', 'Qg3+,Kg1,h3', 'https://lichess.org/training/cE0hG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ce5XO', 'Blitz', 'clearwater88', 1876, 'EmilianoV', 1930, 'd4,d5,c4,dxc4,e4,e5,d5,Bb4+,Bd2,Qe7,Bxc4,Nd7,Nf3,Ngf6,Bd3,O-O,O-O,Bd6,Bg5,h6,Bh4,Re8,Nc3,a6,Rc1,Nf8,Nd2,Ng6,Bg3,Nf4,Bxf4,exf4,Nc4,Nd7,Nxd6,Qxd6,Re1,Ne5,Bb1,Bg4,f3,Bd7,Ne2,g5,Nd4,Rac8,Kh1,c5,dxc6,Bxc6,Nxc6,Qxd1,Rexd1,Nxc6,a3,Rcd8,Rxd8,Rxd8,Ba2,Rd2,Rb1,Ne5,Bd5,b6,h3,Nd3,b4,Ne5,Rc1,b5,Bb7,Nc4,Bxa6,Nxa3,Rc3,Ra2,Bc8,Nb1,Rc5,Nd2,Rxb5,Rb2,Rb8', 'Rb1+,Kh2,Nf1+,Kg1,Ng3+,Kf2,Rf1#', 'https://lichess.org/training/ce5XO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cE7lc', 'Blitz', 'DrChessAlawi', 2452, 'Dima_K_8220061892200', 1966, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,h6,Bd3,c5,c3,cxd4,cxd4,Nc6,O-O,Be7,b3,O-O,Bb2,Qf4,Qe2,Bd7,Rad1,Rfe8,Bb1,Rad8,g3,Qc7,Ne5,Nxe5,dxe5,Bc6,Qg4,Rxd1,Rxd1,Rd8,Rd6,Bf8,Rxd8,Qxd8,Qe2', 'Qd5,Be4,Qxe4,Qxe4,Bxe4', 'https://lichess.org/training/cE7lc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cE81O', 'Rapid', 'mipatoni', 1654, 'GooglEN', 1626, 'e4,e5,Nf3,Nc6,h3,Bc5,a3,Nf6,Nc3,d5,exd5,Nxd5,Bb5,O-O,Bxc6,bxc6,O-O,Qf6,d3,Qg6,Kh1,Nxc3,bxc3,f5,Nxe5,Qf6,Nc4,Qxc3,Bd2,Qf6,Qf3,Be6,Ne3,Bxe3,fxe3,g6,Bb4,Rf7,Qxc6,Rd8,Bc3,Rd6,Qa8+,Qd8,Qxa7,Rc6,Bd4,Rxc2,Qa5,Bd5,Rg1,Rd7,Qa4,Qh4,Qxc2', 'Qxh3#', 'https://lichess.org/training/cE81O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CECB6', 'Classical', 'xlex13', 1696, 'ferdiERDOGAN', 1715, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,e5,Nxe5,Qe2,Qe7,Nf5,Qe6,Nd4,Qd5,Nf3,Bd6,Bf4,Ne4,Nxe5,Bxe5,Bxe5,Qxe5,f3,O-O,fxe4', 'Qxb2,c3,Qxa1', 'https://lichess.org/training/CECB6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CeDwe', 'Rapid', 'Cerete', 1823, 'InfiniteFlash', 2136, 'e4,e5,f4,d5,exd5,c6,Nf3,e4,Qe2,Qe7,d6,Qxd6,Qxe4+,Be7,Bc4,Nf6,Qd4,Qc7,O-O,O-O,d3,Nbd7,Nc3', 'Bc5,Qxc5,Nxc5', 'https://lichess.org/training/CeDwe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cEENl', 'Blitz', 'A_D_S', 1765, 'andreykalina', 1764, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,O-O,Bc5,d4,exd4,cxd4,Bb6,Ne5,O-O,Nxc6,dxc6,Re1,Re8,e5,Nh7,Be3,Be6,Be2,Ng5,b4,a5,Nd2,axb4,Nc4,Ne4,Nxb6,cxb6,Bd3,Nc3,Qf3,Rxa2,Rxa2,Bxa2,Qg4,b3,Bxh6,g6,h4,b2,h5,Bb1,hxg6,Bxd3,gxf7+,Kxf7,Qg7+,Ke6,d5+,cxd5,Bg5,Qc8,f4,b1=Q', 'Qf6+,Kd7,Qd6#', 'https://lichess.org/training/cEENl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cEeoW', 'Blitz', 'Cobbers', 2030, 'NNJude', 1640, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nce2,c5,c3,Nc6,Nf3,Qb6,a3,h6,g3,cxd4,cxd4,Be7,h4,f6,Nf4,fxe5,Nxe6,Nxd4,Nfxd4,exd4', 'Qh5+,g6,Qxg6#', 'https://lichess.org/training/cEeoW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CeeTk', 'Rapid', 'Domingo121145', 1672, 'Firsin', 1674, 'd4,d5,c4,Nf6,Nc3,Nc6,cxd5,Nxd5,e4,Nxc3,bxc3,e5,Be3,exd4,cxd4,Bb4+,Bd2,Qxd4,Bxb4,Qxb4+,Qd2,Qxe4+,Qe3,Qxe3+,fxe3,O-O,Kf2,Be6,a3,Rad8,Nf3,Rfe8,Be2,Bb3,Rab1,Bd5,Rxb7,Ne5,Rxc7,Nxf3,gxf3,Rd6,Rxa7,Rf6,e4,Bxe4,a4,Bc6,a5', 'Rxe2+,Kxe2,Bxf3+,Ke3,Bxh1', 'https://lichess.org/training/CeeTk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cEFUm', 'Classical', 'FylhtqVfrcbvjd', 1899, 'matt99', 1842, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Qf3,Nc6,b3,Qd4,Qc3,Bb4,Qb2,O-O-O,Nf3,Qxb2,Bxb2,Rhe8,a3,Bxc4+,Kd1,Bxb3+,Kc1,Bc5,Bxf6,gxf6,Kb2,Bd5,Nc3,Bxf3,gxf3,Rxd2+,Kc1,Re1+', 'Kxd2,Rxa1,Bh3+,Kd8,Rxa1', 'https://lichess.org/training/cEFUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cEgLC', 'Blitz', 'ang1372', 2205, 'Secondcz', 2191, 'b3,e5,Bb2,d6,e3,g6,d4,Nd7,Nf3,Bg7,dxe5,dxe5,Bc4,Nh6,O-O,O-O,Qe2,e4,Nd4,c5,Ne6,fxe6,Bxe6+,Nf7,Bxg7,Kxg7,Nc3,Qe7,Bxf7,Rxf7,Nd5,Qe5,Rad1,Nf6,c4,Ng4,g3,Qh5,h4,Qe5,Kg2,Be6,Nf4,Raf8,Rd2,Bc8,Rfd1,Qf5,Rd5,Ne5,Rxc5,b6,Rcd5,Kh8,Qb2,Re8,Rd8,Re7,Rxe8+,Rxe8,Rd5,Kg8,b4,h6,Qb3,g5,c5,Be6,Nxe6,Qf3+,Kf1,Ng4,Rd2,Kh7,Nd4,Nh2+,Ke1', 'Qh1+,Ke2,Qf1#', 'https://lichess.org/training/cEgLC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cegv9', 'Rapid', 'shakki-mestari123', 1684, 'GASILA', 1946, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bf4,e6,Nf3,Be7,e3,a6,a4,O-O,Bd3,Nc6,O-O,Bd7,Qc2,Rc8,Ne5,Nb4,Qd2,Nxd3,Qxd3,Nh5,Nxd7,Qxd7,Bg3,Nxg3,hxg3,f6,Rac1,Bd6,e4,dxe4,Nxe4,Bb8,Nc5,Qe7,Rfe1,e5,dxe5', 'Rxc5,Rxc5,Qxc5', 'https://lichess.org/training/Cegv9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ceHvQ', 'Rapid', 'lily_r', 1653, 'FiGo95', 1702, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Ng4,Nc3,Ngxe5,Nxe5,Nxe5,Bf4,f6,Bxe5,fxe5,Qh5+,Ke7,Qxe5+,Kf7,Bc4+,Kg6,Qf5+,Kh6,Be2,g6,Qf4+,Qg5,Qxg5+,Kxg5,h4+,Kf6,Nd5+,Ke5,Nxc7,Rb8,Bf3,Bc5,Rd1,Kf6,Nd5+,Ke5,h5,g5,h6,Rg8,b4,Bf8,Nc7,Kf6,Rd5,d6,Ne8+,Ke6,Bg4+,Ke7,Nxd6,Bxg4,Nf5+,Bxf5,exf5,Kf6,O-O,Bxh6,Re1,g4', 'Re6+,Kg5,f6+,Kg6,f7+,Kxf7,Rxh6', 'https://lichess.org/training/ceHvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CehY1', 'Blitz', 'Rolmita', 1912, 'Supernezh71', 1938, 'c4,e5,d3,d6,Nf3,Nc6,g3,f6,Bg2,Be6,O-O,Qd7,a3,Bh3,Nc3,h5,b4,h4,Nxh4,Rxh4,gxh4', 'Qg4,e3,Qxg2#', 'https://lichess.org/training/CehY1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CeIqi', 'Rapid', 'HenriMax', 1664, 'niccol0', 1618, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,c5,Qe3,Be7,O-O,Nf6,e5,Ng4,Qf4,Nxe5,Bd5,O-O,Nc3,Bg5', 'Qxg5,Qxg5,Bxg5', 'https://lichess.org/training/CeIqi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ceJrF', 'Blitz', 'rm138', 2267, 'amirjjsoltani', 1984, 'e4,e6,d4,d5,Nd2,c5,exd5,Qxd5,dxc5,Bxc5,Ngf3,Nf6,Bc4,Qd6,Qe2,a6,O-O,Nc6,Ne4,Nxe4,Qxe4,O-O,Ng5,g6,Qh4,h5,Ne4,Qd4,Bg5,f5,Nxc5,Qxc5,Rad1,Ne5,Bb3,Nc6,Rfe1,Re8,Qg3,Kf7,c3,b5,Qc7+,Kg8,Rd8,Rxd8,Rxe6,Bxe6', 'Bxe6+,Kh8,Bf6#', 'https://lichess.org/training/ceJrF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cekex', 'Rapid', 'KZI_AtaKe', 1750, 'FlyingRiverCrab', 1791, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nge7,d4,Ng6,dxe5,Ncxe5,Nxe5,Nxe5,Bb3,Qf6,O-O,Bc5,Be3,Bxe3,fxe3,Qg6,Qd4,d6,Nd2,O-O,Nf3,Bh3,Nh4,Qh5,Nf3,Bd7,Nxe5,Qxe5,Qd3,Bc6,Bd5,a6,Rf5,Qe7,Raf1,Bb5,c4,Bc6,Bxf7+,Rxf7,Rxf7,Qxf7,Rxf7,Kxf7,Qf1+,Kg8,e5,dxe5,c5,Rd8,Qf5,Rd5,Qc8+,Kh7,Qxc7,Rxc5,Qc8,Rc1+,Kf2,Rc2+,Ke1,Rxg2,Qf5+,g6,Qxe5,h5,Qe7+,Kh6,e4,Rxh2,e5,Rxb2,Qf8+,Kh7,Qf7+,Kh6,Qf4+,Kh7,e6,Rb1+,Kd2,Rb2+,Kc3,Re2,Qf7+,Kh6,Qf8+,Kh7,e7,h4,Qf7+,Kh6,Qf4+,g5,Qf6+,Kh5,Qh8+,Kg6,Qg8+,Kh5,Qc4,Rxe7,Qc5,Re2,a3,h3,Qf5,h2,Qh7+,Kg4,Kd3,Bb5+,Kc3,Re1,Qxh2,Re3+,Kd4,Rd3+,Ke5,Re3+,Kf6,Rf3+,Kg7,Rxa3,Qg1+,Kf5', 'Qc5+,Ke6,Qxa3', 'https://lichess.org/training/cekex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cELFJ', 'Rapid', 'chree55', 1633, 'beantheshadow', 1606, 'e4,e6,d4,d5,exd5,exd5,Bd3,c5,Nf3,Nf6,c3,Nc6,O-O,Be6,Bg5,Be7,dxc5,Bxc5,Nbd2,Qb6,Qc2,Ng4,h3,Nxf2,Kh2,Nxd3,Qxd3,f6,Bh4,O-O-O,b4,Be7,Bf2,Qc7+,Kh1,g6,Rfc1,Kb8,Qe2,Bf5,b5,Ne5,Qe3,b6,Nxe5,Qxe5', 'Bg3,Qxg3,Qxg3+', 'https://lichess.org/training/cELFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CeLLt', 'Rapid', 'lmute', 1864, 'Mositas', 1849, 'd4,Nf6,c4,e6,g3,d5,cxd5,exd5,Bg2,Nc6,Nf3,Bf5,O-O,Bd6,Nc3,Qd7,Re1,Bb4,Nh4,Bh3,Bh1,Ne4,Nxe4,dxe4,Bd2,Qxd4,Bxb4,Qxb4,Qc2,O-O-O,Bxe4,Rd2,Qb1,Nd4,e3,f5,Nxf5,Nxf5,Bxf5+,Bxf5,Qxf5+,Kb8,b3,Qc3,Rac1,Qb2,Qc5,Rc8,Red1,Rxf2', 'Qxc7+,Rxc7,Rd8+,Rc8,Rdxc8#', 'https://lichess.org/training/CeLLt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CelQO', 'Classical', 'halihor', 1873, 'marcogallo', 1771, 'e4,e6,d3,d5,Nd2,c5,g3,Nf6,Bg2,Nc6,Ngf3,Bd6,O-O,d4,Nc4,e5,Nxd6+,Qxd6,Nh4,O-O,Bg5,h6,Bd2,Bg4,Qc1,Ne7,f4,Ng6,fxe5,Qxe5,Nxg6,fxg6,Bf4,Qe6,e5,Nd5,c3,Nxf4,Rxf4,Bh3,cxd4,Bxg2,Kxg2,cxd4,Rxd4,Qxe5,Qc4+,Kh8,Qb4,Qe2+,Kh3,Qh5+,Rh4,Qf5+,Kg2,Qf3+,Kh3,g5,Rd4,g4+,Rxg4,Qf5,Kg2,Qf3+,Kg1,Qf2+,Kh1,Qe2,Qd4', 'Rf1+,Rxf1,Qxf1+,Qg1,Qf3+', 'https://lichess.org/training/CelQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CemnX', 'Rapid', 'matabichos26', 1762, 'selami011235', 1743, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nf6,f3,Nxe4,fxe4,Qh4+,g3,Qxe4+,Ne3', 'Qxh1,Qd5,Qxd5', 'https://lichess.org/training/CemnX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cEn2m', 'Blitz', 'fokay', 1817, 'aleksandr_2020', 1908, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Nc6,c3,e6,Bf4,Nf6,O-O,Be7,h3,Bxf3,Bxf3,O-O,Nd2,Bd6,Be3,Re8,Rc1,e5,dxe5,Nxe5,Bd4,Nxf3+,Nxf3,Bf4,Rc2,Ne4,Re1,f6,g3,Bc7,Kg2,Qd6,Rg1,b6,Kf1,Re7,Ne1,Rae8,Ng2,Ng5,h4,Nh3,Rh1,Qd7,Qf3,Qb5+,c4,dxc4,Rxh3,c3+,Kg1,Re1+,Nxe1,Rxe1+,Kg2', 'Qf1+,Kh2,Qg1#', 'https://lichess.org/training/cEn2m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ceNKY', 'Rapid', 'vivek688', 1724, 'Rat27', 1660, 'd4,d5,Bf4,Bf5,Nf3,c6,Nbd2,Qb6,Nb3,Nf6,c3,Nbd7,e3,e6,Bd3,Bg6,Ne5,Nxe5,Bxe5,Be7,O-O,a5,a4', 'Bxd3,Qxd3,Qxb3', 'https://lichess.org/training/ceNKY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CEnvf', 'Blitz', 'ketor4343', 1530, 'lord779', 1517, 'e4,c5,Nf3,Nc6,d4,e6,Nc3,cxd4,Nxd4,d5,exd5,exd5,Ndb5,d4,Ne4,a6,Na3,Nf6,Nxf6+,Qxf6,c3,Be7,cxd4,Nxd4,Be3,Bc5,Bd3,Bb4+,Bd2,Bxd2+,Qxd2,Qe6+,Be2,Nxe2,Qxe2,Qxe2+,Kxe2,Be6,Rhe1,O-O,Kf1,g6,Nc2,Rac8,Re2,Rfd8,a3,Rd6,Ne3,Rdc6,Rd1,Rc1,Rxc1,Rxc1+,Re1,Rxe1+,Kxe1,Kf8,Kd2,Ke7,f4,Kd6,Kc3,Kc5,g3,b5,Nc2,a5,Nd4,b4+,axb4+,axb4+,Kd3,Bc4+,Ke3,Be6,h4,Kc4,Nxe6', 'fxe6,g4,Kb3,Ke4,Kxb2', 'https://lichess.org/training/CEnvf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CeOJq', 'Rapid', 'Aliaksandr80', 1859, 'chessjedi', 1884, 'Nf3,d5,g3,c5,Bg2,Nc6,O-O,e5,d3,f6,c4,d4,e3,Bd6,exd4,cxd4,Re1,Nge7,a3,O-O,b4,Bg4,c5,Bc7,Qb3+,Kh8,Nbd2,Qd7,Nc4,Be6,Qc2,Nd5,Bd2,Bh3,b5,Nce7,Bxh3,Qxh3,Nd6,b6,Ne4,Qf5,Nh4,Qe6,a4,bxc5,Nxc5,Qh3,a5,Bd6,Ne4,Nb4,Qb3,g5,Nxd6,gxh4,Qxb4,Rad8,Bh6,hxg3,Bxf8', 'Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/CeOJq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cEOoq', 'Rapid', 'Rysam25', 1872, 'byo_mokumus', 1789, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,h6,O-O,Bc5,d4,exd4,e5,dxc3,exf6,Qxf6,Re1+,Be7,bxc3,Qxc3,Qd5,Qf6,Ba3,d6,Bb5,Bd7,Rad1,O-O,c4,a6,Bxc6,Bxc6,Qd2,Bxf3,gxf3,Rfe8,Bb2,Qxf3,Re3,Qc6,Rg3,f6', 'Qxh6,Bf8,Bxf6', 'https://lichess.org/training/cEOoq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CEP0V', 'Blitz', 'fateh333', 1732, 'thathatha', 1711, 'b3,Nf6,Bb2,g6,e3,Bg7,Nc3,O-O,Nf3,d6,d4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Qe2,a5,a4,Bd7,O-O-O,c6,h4,h5,Nh2,b5,g4,Nxg4,Nxg4,Bxg4,f3,Be6,Rdg1,bxa4,Nxa4,Qb8,f4,Bxb3,cxb3,Qxb3,Qc2,Qxe3+,Qd2,Qb3,Qc2,Qd5,Rf1,Bxd4,Bxd4,Qxd4,Nc3,Rab8,f5,Kg7,fxg6,fxg6,Rfg1,Rf6,Rg5,Rbf8,Rhg1,Rf1+,Nd1,Qa1+,Kd2,Qd4+,Kc1,Rxg1', 'Qxg6+,Kh8,Rxh5#', 'https://lichess.org/training/CEP0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cepc3', 'Classical', 'Kaptri', 1835, 'fentezari', 1858, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,c3,h6,O-O,Nf6,Re1,Ng4,d4,exd4,Nxd4,Nxd4,cxd4,Qh4,h3,Qxf2+,Kh1,Bxd4,Rf1,Qg3', 'Qxg4,Qxg4,hxg4', 'https://lichess.org/training/cepc3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CePQV', 'Rapid', 'Mindfreak1993', 1938, 'Pravn', 1740, 'd4,e6,c4,c5,e3,cxd4,exd4,Nc6,Nf3,h6,Nc3,a6,Be2,Nf6,O-O,d5,cxd5,Nxd5,Bd2,Bd6,Qc1,Qf6,Ne4,Qe7,Nxd6+,Qxd6,Re1,b5,Bd3,Bb7,a3,Nce7,Ne5,Rc8,Qd1,Nf6,Be3,O-O,Qd2,g5,Bxg5,hxg5,Qxg5+,Ng6,Nxg6,fxg6,Qxg6+,Kh8,Re3,Rc7', 'Rh3+,Rh7,Rxh7+,Nxh7,Qxh7#', 'https://lichess.org/training/CePQV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CEqpc', 'Rapid', 'Circinus_X-1', 1797, 'Dmitrii81', 1755, 'c4,e5,Nc3,Nf6,Nf3,Nc6,g3,Be7,Bg2,d5,cxd5,Nxd5,O-O,Nxc3,bxc3,O-O,d4,Bf6,d5,Na5,Ba3,Re8,Qa4,b6,Rfd1,Bd7,Qe4,Qc8,Rac1,c6,c4,c5,Bb2,Ba4,Rd3,Rd8,Nxe5,Qc7,f4,b5,Ng4,Bxb2,Nf6+,Bxf6,g4,Nxc4,g5,Bb2,Rf1,Nd6,Qf3,Nf5,Bh3,g6,Bxf5,gxf5,Qh5,Rd6,Rh3,Kf8,Rf2,c4,Re3,Re8,Rff3,Rxe3,Rxe3,f6,g6,Kg7,Re6,Rxe6', 'Qxh7+,Kf8,Qxc7', 'https://lichess.org/training/CEqpc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CerMG', 'Classical', 'Inigo59', 1665, 'kotbert1988', 1707, 'd4,Nf6,Bf4,d6,e3,Na6,Bxa6,bxa6,Nf3,Bb7,Nbd2,Rb8,O-O,g6,c3,Bg7,Rb1,O-O,h3,Ne4,Nxe4,Bxe4,Rc1,Bxf3,Qxf3,Rxb2,Ra1,e5,dxe5,dxe5,Rfd1,Qe7,Bh2,e4,Qg3,Bxc3,Qxc7,Qxc7,Bxc7,Rb7,Bd6,Rd8,Bf4,Rd3,Rab1,Rb5,a4,Ra5,Bh6,Rxd1+,Rxd1,f5,Rd8+,Kf7,Rf8+,Ke6,Re8+,Kd7,Ra8,Rxa4,Rxa7+,Kc6,Rxh7,Be5,g3,Ra1+,Kg2,a5,Ra7,a4,Ra6+,Kb5,Rxg6,a3,Rg8,a2,Ra8,Kc4,g4,f4,Bxf4,Bg7,h4,Bf8,h5,Kd3,h6,Ke2,h7,Bg7,Bh6,Bh8,Rxh8', 'Rg1+,Kxg1,a1=Q+', 'https://lichess.org/training/CerMG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CEso7', 'Rapid', 'slavich665578', 1711, 'Roman240108', 1847, 'e4,e5,Nc3,Nc6,Nf3,Nf6,Bb5,Nd4,Nxd4,exd4,Nd5,Nxd5,exd5,a6,Ba4,b5,Bb3,Bd6,O-O,O-O,c3,dxc3,bxc3,c6,dxc6,dxc6,Bb2,h6,Qf3,Be6,Bxe6,fxe6,Qxc6,a5,Qxb5', 'Rb8,Qc4,Rxb2', 'https://lichess.org/training/CEso7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ceTf0', 'Classical', 'skva', 1828, 'Ywoak', 1767, 'e4,c5,Nf3,e6,g3,Nf6,Nc3,d5,exd5,exd5,d4,Bg4,Bg2,Be7,O-O,O-O,Be3,Qb6,Qc1,Bxf3,Bxf3', 'cxd4,Nxd5,Nxd5', 'https://lichess.org/training/ceTf0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CEu9X', 'Rapid', 'aniket1999', 1602, 'thewolfbat', 1609, 'e4,e6,d4,d5,e5,c5,dxc5,Bxc5,f4,Nc6,Nf3,Nge7,c3,Nf5,Bd3,Ne3,Qe2,Qb6,b4,Nd4,cxd4,Bxd4,Nxd4,Qxd4,Bb2,Qxb4+,Bc3,Qxf4,g3,Ng2+,Qxg2,Qc1+,Ke2,Qg5,Bd2,Qxe5+,Kf1,Qxa1,Bc3,Qxc3,Nxc3,O-O,Qc2,f5,Nb5,Bd7,Qc7,Rf7,Nd6,Re7,Qxb7,Rf8,Kg2,f4,gxf4,Rxf4,Qb8+,Rf8,Qxa7,d4,Bb5', 'Bc6+,Bxc6,Rxa7', 'https://lichess.org/training/CEu9X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cev7r', 'Blitz', 'carmaisabitc', 1799, 'Kuzgunov', 1838, 'e4,e5,Nf3,Nc6,Nc3,b6,Bc4,h6,h3,Bb7,Bd5,d6,d4,Nf6,dxe5,Nxd5,exd5,Nxe5,Nxe5,dxe5,O-O,Bd6,Re1,Qh4,Qf3,f6,Re4,Qxe4,Qxe4,O-O-O,Nb5,Bc5,c4,a6,Nc3,Rhf8,Qg6,Rd7,Qe4,Bd6,a3,f5,Qe2,g5,h4,Rg8,hxg5,hxg5,Qh5,g4,Qxf5,Rh8,Ne4,Rh7,Qxg4,c6,Qg8+,Kc7,Nxd6,Kxd6,Qg6+,Kc7,dxc6,Bxc6,g3,Rhg7,Qf5', 'Rd1+,Kh2,Rh1#', 'https://lichess.org/training/Cev7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CevEY', 'Rapid', 'bahadorebrahimnejad', 1723, 'B4IS2LAT3', 1716, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Bf5,h3,a6,a3,e6,Bf4,Nc6,Nf3,h6,Bd3,Bxd3,Qxd3,Nf6,O-O,Bd6,Bxd6,Qxd6,Rfe1,O-O,Ne5,Nxe5', 'dxe5,Qd8,exf6', 'https://lichess.org/training/CevEY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cEVSI', 'Blitz', 'IM trueteller92', 2545, 'GM JacobAagaard', 2559, 'e4,c5,Nc3,d6,Nge2,g6,g3,Bg7,Bg2,Nc6,O-O,e5,d3,Nge7,Bg5,O-O,Qd2,f6,Bh6,Be6,Bxg7,Kxg7,f4,Qd7,Rf2,d5,exd5,Nxd5,Ne4,b6,Raf1,exf4,Nxf4,Nxf4,Rxf4,f5,Ng5,Rae8,Bxc6,Qxc6,Qc3+,Kg8,Nxh7,Kxh7,Rh4+,Kg8,Qh8+,Kf7', 'Rh7#', 'https://lichess.org/training/cEVSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CEwWT', 'Classical', 'Rorys', 1795, 'drzaiusbilong777', 1896, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,h6,Nf3,e4,Ne5,Bb7,d3,Qd4,Nc4,Nxc4,dxc4,Qxc4,Bb3,Qb5,c4,Qb6,O-O,Bc5,Nc3,Qc7,h3,O-O,Be3,Bd6,Bc2,Rad8,Qe2,Rfe8,Rab1,Bf4,Bxf4,Qxf4,b3', 'Rd2,Qe3,Qxe3,fxe3,Rxc2', 'https://lichess.org/training/CEwWT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ceXMO', 'Rapid', 'Yusuf-04', 1951, 'atlayankurbaga', 1954, 'e4,e5,f4,exf4,Nf3,Nc6,d4,g5,Bc4,Bg7,d5,Ne5,Nxe5,Bxe5,O-O,Nf6,Nc3,h5,Bb3,h4,h3,d6,a4,a5,Bd2,c6,dxc6,Qb6+,Kh1,bxc6,Be1,g4,Bf2,Qb4,Na2,Qb6,Bxb6,gxh3,gxh3,Bxh3,Qd3,Bxf1,Rxf1,Rf8,c3,Rb8,Qa6,Nd7,Bd4,Rxb3,Bxe5,Nxe5,Qxa5,Rxb2,Nb4,Kd7,Qa7+,Ke6,Rxf4,Rb1+,Kh2,h3,Qf2,Kd7,a5,Rg8,Rxf7+,Ke8,Qa7,Nxf7,Nxc6,Rb2+,Kh1,Rb1+,Kh2,Rb2+,Kh1,Rb1+,Kh2,Rb2+,Kxh3,Ng5+,Kg4,Rg2+,Kf4,Ne6+,Kf5,R2g5+,Kxe6', 'R8g6#', 'https://lichess.org/training/ceXMO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CeYM7', 'Rapid', 'Estinocaico', 1653, 'oliashley', 1655, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Qf3,Nf6,Nxc6,bxc6,e5,Qa5+,Nc3,Qxe5+,Be3,d5,O-O-O,e6,Be2,Bb4,Bd4,Qg5+,Be3,Qg6,Bd3,Qg4,Ne2,O-O,Nd4,c5,Nc6,Bb7,Nxb4,Qxb4,Qg3,Qg4,Bxc5,Rfc8,Be7,Qxg3,hxg3,Ne4,f3,Nf2,Bxh7+,Kh8,Bd3+,Nxh1,Rxh1+,Kg8,g4,f6,g5,Kf7,gxf6,gxf6,Rh7+,Ke8,Bg6+,Kd7,Bxf6+,Kc6,Re7,Kd6,Bf7,Bc6,Bxe6,Re8,Rxe8,Rxe8,Bf5', 'Rf8,Bd4,Rxf5', 'https://lichess.org/training/CeYM7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CeYqz', 'Rapid', 'LX2019', 1963, 'abusalma777', 1940, 'e4,c5,Nf3,e6,c3,Nc6,d4,cxd4,cxd4,Qb6,Nc3,Nf6,e5,Nd5,Nxd5,exd5,Be2,Bb4+,Bd2,Nxd4,Bxb4,Nxf3+,Bxf3,Qxb4+,Qd2,Qxd2+,Kxd2,O-O,Bxd5,Re8,f4,d6,Rhe1,dxe5,fxe5', 'Rd8,Ke3,Rxd5', 'https://lichess.org/training/CeYqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cezRh', 'Blitz', 'SALENT', 1764, 'Erinaceus2020', 1812, 'd4,d5,Bg5,Nf6,Nf3,Bf5,e3,h6,Bxf6,exf6,Bd3,Bg6,Bxg6,fxg6,Qd3,f5,Ne5,Qd6,Nc3,Nc6,Nb5,Qb4+,Nc3,O-O-O,O-O,Nxe5,dxe5,d4,exd4,Rxd4,Qb5,Rd2,Qe8+,Rd8,Qe6+,Kb8,Rad1,Bc5,Qxg6,Qxb2,Na4,Qxe5,Nxc5,Qxc5,Rb1,Qxc2,Rfc1,Qe4,Qa6,Ka8,Qg6,c6,f3,Qe3+,Kh1,f4,Qxg7,Rb8,Re1,Qf2,Re7,Rhg8,Qb2,Rxg2', 'Qxb7+,Rxb7,Re8+,Rb8,Rbxb8#', 'https://lichess.org/training/cezRh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ceZtJ', 'Bullet', 'geza1965', 1586, 'Henmanhill', 1631, 'd4,d5,e3,e6,c4,Nf6,Nc3,Bb4,Qb3,Nc6,Nf3,a5,a3,a4,Qc2,Bd6,c5,Be7,Nxa4,Bd7,Nc3,O-O,Bd3,h6,O-O,Be8,Bd2,b6,b4,bxc5,dxc5,Qb8,Nd4,Nxd4,exd4,c6,Bf4,Qd8,h3,Kh8,Qd2,g5,Bxg5,hxg5,Qxg5,Rg8', 'Qh6+,Nh7,Qxh7#', 'https://lichess.org/training/ceZtJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cF5iE', 'Blitz', 'Metry63', 1555, 'MADHUJYA', 1625, 'd3,d5,Nf3,Nf6,g3,Nc6,Bg2,Bd7,O-O,e6,c4,Bd6,Nc3,Qe7,Qb3,O-O-O,cxd5,exd5,Be3,Qf8,Nd4,Nxd4,Bxd4,Kb8,Nxd5,Be6,Rac1,c6,Bxa7+,Kxa7,Qb6+,Ka8,Nc7+,Bxc7,Qxc7,Rc8,Qb6,Qd6,Rc3,Qc7', 'Ra3+,Kb8,Qa7#', 'https://lichess.org/training/cF5iE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cf75z', 'Rapid', 'akbayy', 1863, 'Joler77', 1862, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,f3,a6,Be3,g6,Be2,Bg7,Qd2,O-O,O-O-O,e5,Nb3,Nb4,g4,Be6,h4,Bxb3,axb3,Qa5,Qxd6,Rfd8,Qb6', 'Qa1+,Nb1,Na2#', 'https://lichess.org/training/cf75z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cF9MS', 'Rapid', 'gapora', 1891, 'serg10148', 1848, 'd4,Nf6,Nc3,e6,Bf4,a6,e3,d5,g4,Bd6,g5,Nfd7,Nf3,Bxf4,exf4,c5,h4,Nc6,Bh3,cxd4,Nxd4,Nxd4,Qxd4,Rg8,O-O-O,Qb6,Rhe1,Qxd4,Rxd4,Kd8,f5,Nf8,fxe6,Bxe6,Nxd5,Bxd5,Rxd5+,Kc7,Re7+,Kc6,Rd3,f6,Rb3,Rb8,Bg2+,Kd6,Rexb7,Nd7,Rxb8,Nxb8,Rd3+,Ke5,Kd2,fxg5,hxg5,Kf4,c4,Kxg5,Bd5,Rf8,Rg3+,Kh4,Ke3,g5,Bg2,g4,Be4,h5,Rg1,Nd7,b3,a5,Bg6,Kg5,Bb1,Rf3+,Ke2,Ne5,Rd1,h4,Rd5,Kf6,Rxa5,h3,Be4', 'h2,Ra6+,Kg5', 'https://lichess.org/training/cF9MS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cf9PA', 'Rapid', 'Konstantin61', 2065, 'dieter429', 2050, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bg4,h3,Bxf3,Qxf3,e6,Bd3,Nf6,O-O,Be7,Re1,O-O,Bf4,Nc6,c3,Qb6,Re2,Rac8,Rc2,a5,Nd2,a4,a3,Na5,Be5,Nb3,Re1,Nxd2,Rxd2,Rfd8,Bc2,Qb5,Bd3,Qd7,Qe2,Rc6,Bb5,Qc8,Bxc6,bxc6,Bxf6,Bxf6,c4,Qb7,cxd5,cxd5,Qd1,Qa7,g3,g6,Kg2,Rc8,b3,axb3,Qxb3,Bxd4,Rb1,Be5,Ra2,Rc3,Qb4,Qd7,a4,d4,a5', 'Qd5+,Kg1,Qxa2', 'https://lichess.org/training/Cf9PA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cf9tW', 'Rapid', 'abouda1', 1887, 'jaaferr17', 1905, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,a6,Bc4,Nf6,f3,b5,Bb3,O-O,Qd2,Bd7,O-O-O,b4,Nd5,Nxd5,Bxd5,Ra7,Qxb4,Rc7,Qd2,a5,h4,a4,h5,e6,hxg6,fxg6,Bxe6+,Bxe6,Nxe6,Qf6,Nd4,Nc6,Rh3,Rfc8,c3,a3,f4,axb2+,Kxb2,Nxd4,Bxd4,Qe6,Rdh1,Rb7+,Ka1,Bxd4,Qxd4', 'Qxa2+,Kxa2,Ra8+,Qa7,Raxa7#', 'https://lichess.org/training/cf9tW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfALh', 'Rapid', 'LeNalette', 1769, 'amazingname', 2030, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Be2,Be7,O-O,Nc6,f4,Qc7,Qd2,Bd7,f5,Nxd4,Qxd4,exf5,exf5,O-O,Qb6,Qxb6,Bxb6,Rac8,Rad1,Rc6,Bd4,b5,a3,Rfc8,Bf3,Rc4,Ne4,Rxc2,Nxf6+,Bxf6,Bxf6,gxf6,Rxd6,Bc6,Rxf6,Bxf3,Rxf3,Rxb2,Rxa6,Rcc2,f6,h6,h3,Rxg2+,Kf1,Rgc2', 'Rg3+,Kh7,Rg7+,Kh8,Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/cfALh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfAQm', 'Classical', 'Mishel52', 2243, 'Atila83', 1815, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,a6,Ba4,Bd7,O-O,e6,Nbd2,Nf6,Bb3,b5,a4,b4,c3,a5,Qe2,Bc8,Re1,Ba6,Qe3,Be7,c4,dxc4,Bxc4,Bxc4,Nxc4,Nd5,Qe4,O-O,b3,Rc8,Bd2,Nf6,Qf4,Nd5,Qg3,Kh8,Nce5,Bd6,Rac1,Nxe5,dxe5,Be7,Nd4,Nc3,Bxc3,bxc3,Red1,Qc7,Nb5,Qb6,Rxc3,Bb4,Rcd3,Rc2,h3,Rfc8,Qg5,Rxf2,Kh1,h6,Rd8+,Kh7,Qh4,Rcc2,Qe4+,g6,Qa8,g5,Rh8+,Kg6,Qg8+,Kf5,Nd4+,Kxe5,Nxc2,Rxc2,Rxh6,f6,Qa8,Qf2,Rh7,Re2,Qb8+,Kf5,Qb5+,Kg6,Qe8+,Kxh7,Rd7+,Kh6', 'Qh8+,Kg6,Qh7#', 'https://lichess.org/training/cfAQm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfBGV', 'Blitz', 'dadrules', 1885, 'urbanq', 1882, 'd4,d5,Nc3,g6,Bf4,Bg7,e3,Nf6,Nb5,Na6,Nf3,c6,Nc3,Nb8,Be2,Bf5,Ne5,Nbd7,h4,Nxe5,Bxe5,Nh5,g4,Bxe5,dxe5,Bxc2,Qxc2,Ng7,h5,Qd7,hxg6,fxg6,O-O-O,O-O,Ne4,Qe6,Ng5,Qxe5,Nxh7,Rxf2,Rde1,Rh2,Qxg6,Qxe3+,Kb1,Rxe2,Ng5,Rxe1+,Rxe1,Qxe1+,Kc2,Qe5', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/cfBGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFdfA', 'Blitz', 'ehenryindy', 2082, 'DaluminiO', 2064, 'd4,Nf6,c4,d5,cxd5,Qxd5,Nc3,Qd8,Nf3,e6,e4,Be7,Be3,O-O,h3,Bb4,Bd3,b6,O-O,Bb7,e5,Nd5,Ne4,Nd7,a3,Be7,Bd2,c5,dxc5,Nxc5,Nxc5,Bxc5,Qe2,Rc8,Qe4,g6,Bh6,Re8,Ng5,Qd7,Qh4,Ne7,Nxf7,Kxf7', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/CFdfA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cFdk0', 'Classical', 'M1Dot', 1631, 'wxytf', 1714, 'd4,d5,e3,g6,Bd2,Nf6,Ne2,a5,Bc3,Ne4,Nd2,Bg7,Ng3,Nxc3,bxc3,O-O,Nb3,Bd7,Nc5,Bc6,h4,b6,Nd3,f5,Nf4,Bd7,h5,g5,Nxd5,Be6,Nf4,gxf4,exf4,Bd5,h6,Bh8,Nxf5,Kf7,Qh5+,Ke6,Ng7+,Kd6,Qe5+,Kc6,Bb5+,Kxb5,c4+,Kxc4,Qe2+,Kxd4,Qe3+,Kc4,Qd3+,Kc5,Qc3+,Kd6,Qe5+,Kc6,Qc3+,Kb7,O-O-O,Rxf4,Rh5,c6,Qd3,Rxf2,Rxd5,cxd5,Ne6,Qd6,Re1,Rxg2,Qf3,Rg6,Nf4,Rxh6,Nxd5,Bb2+,Kxb2,Re6,Nxe7+,Ka6,Qf1+,Ka7', 'Nc8+,Kb7,Nxd6+', 'https://lichess.org/training/cFdk0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CfEap', 'Rapid', 'WarlockZzz', 1835, 'aedweretytysince1945', 1762, 'c4,c5,Nc3,Nc6,Nf3,Nf6,e3,d5,d4,e6,Bd3,dxc4,Bxc4,cxd4,exd4,Bb4,O-O,O-O,Bg5,Be7,Bxf6,Bxf6,d5,exd5,Bxd5,Bg4,h3,Bh5,Re1,Nd4,Re3,Qc7,g4,Nxf3+,Qxf3,Bg6,Bxb7,Rab8,Nb5', 'Qxb7,Qxb7,Rxb7', 'https://lichess.org/training/CfEap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cFeuH', 'Rapid', 'Casavm', 1940, 'Suheib', 1846, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,c4,Ne7,Bg5,h6,Bh4,g5,Bg3,dxc4,Bxc4,Qa5+,Nc3,Nd5,Bxd5,cxd5,O-O,Nc6,a3,Be7,b4,Qc7,Nb5,Qb6,Nd6+,Bxd6,exd6,O-O-O,Be5,Nxe5,Nxe5,Rhf8,d7+,Kb8,Qb3,f6,Nf3,Rxd7,a4,g4,Nh4,Be4,Rfd1,f5,b5,f4,Qb4,Rdf7,a5,Qd8,Rac1,Qxh4,Qd6+,Ka8,a6,Rb8,axb7+,Rfxb7,Rc7,Qd8,Rc6,Qxd6,Rxd6,Rb6,Rd7,f3,Ra1,R6b7,Rd6,fxg2,Rda6,h5,b6,h4', 'Rxa7+,Rxa7,Rxa7#', 'https://lichess.org/training/cFeuH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFeuQ', 'Rapid', 'eabr78', 2330, 'xavier86', 1709, 'e4,e5,f4,d5,exd5,Qxd5,Nc3,Qc5,fxe5,Qxe5+,Be2,Bg4,d4,Bxe2,Qxe2,Qxe2+,Ngxe2,Nd7,Bf4,O-O-O,O-O-O,Ne7,Nb5,Nd5,Bg3,a6,Nbc3,N7f6,Rhe1,Bd6,Bxd6,Rxd6,Nxd5,Nxd5,Ng3,h6,Nf5,Rd7,c4,Nb4,a3,Nc6,b4,g6,d5,Na7,Ng3,Rhd8,Rf1,f5,h4,h5,Ne2,b5,c5,Rxd5,Nf4,Rxd1+,Rxd1,Rg8,Nd5,Nc6,Re1,Kb7,Re6,g5', 'Rxc6,Kxc6,Ne7+,Kd7,Nxg8', 'https://lichess.org/training/CFeuQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cFF30', 'Rapid', 'DeathLock134', 1766, 'Dr_otzymjugues', 1708, 'e4,c5,Nc3,g6,g3,Nf6,Bg2,Nc6,d3,Bg7,f4,d6,Nf3,Bd7,O-O,O-O,Be3,e6,e5,dxe5,fxe5,Ng4,Bxc5,Re8,h3,Ngxe5,Nxe5,Bxe5,Qf3,f5,g4,b6,Ba3,Rc8,gxf5,exf5,Rae1,Nd4', 'Qd5+,Kg7,Rxe5', 'https://lichess.org/training/cFF30');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CfH8n', 'Bullet', 'jojocha', 1666, 'xmars', 1669, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bd3,Bg4,O-O,Nxd4,Nbd2,a6,h3,Nxf3+,Nxf3,Bh5,g4,Bg6,Ne5,Bxd3,Qxd3,e6,Qf3,Qf6,Qg3,Bd6,f4,Rc8,Qb3,b5,a4,bxa4,Qxa4+,Kf8,Nd7+,Ke7,Nxf6,Nxf6,Qxa6,Ne4,f5,Rxc2,fxe6', 'Bh2+,Kh1,Ng3#', 'https://lichess.org/training/CfH8n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfHC4', 'Classical', 'Hazem_Gamal', 1822, 'egeemek', 1724, 'd4,f5,Nc3,e6,e4,fxe4,Nxe4,Nf6,Bg5,Be7,Bxf6,Bxf6,Qh5+,g6,Qf3,O-O,Nxf6+,Rxf6,Qh3,d6,Nf3,e5,Qh4,exd4,Nxd4', 'Re6+,Nxe6,Qxh4', 'https://lichess.org/training/cfHC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cFHoX', 'Rapid', 'ivan25gtr', 1668, 'Gofio73', 1658, 'd4,Nf6,Nf3,e6,c4,b6,Bf4,Bb4+,Nc3,Bxc3+,bxc3,O-O,e3,Bb7,Bd3,d6,Bg5,h6,Bh4,Nbd7,Bc2,c5,Qd3,Qc7,Bxf6,Nxf6,d5,exd5,cxd5,Qe7,Nd2,Qe5,e4,Nxd5,O-O,Nf4,Qf3,Ne6,Nc4,Ng5', 'Nxe5,Nxf3+,Nxf3', 'https://lichess.org/training/cFHoX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFI0X', 'Rapid', 'guigafmoraes', 2078, 'Ondeosfracos', 1988, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Qc7,Be3,a6,a3,Nf6,f3,Be7,Qd2,d5,exd5,exd5,Bd3,O-O,O-O,Nxd4,Bxd4,Bc5,Qf2,b6,b4,Bxd4,Qxd4,Be6,Na4,Rfb8,Rfe1,Qc6,Nc3,Rc8,Ne2,a5,c3,Bd7,g4,Rd8,Nf4,h6,h4,Bc8,Re7,axb4,Qxb4', 'Ra4,Qb5,Qxb5,Bxb5,Rxf4', 'https://lichess.org/training/CFI0X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfibR', 'Rapid', 'Narion', 1779, 'KeraniGA', 1829, 'e4,c5,f4,Nc6,Nf3,e6,Be2,d5,e5,c4,O-O,Bc5+,Kh1,Nge7,d3,b5,b3,Ba6,Nh4,O-O,f5,exf5,Nxf5,Nxe5,Nxe7+,Qxe7,d4,cxb3,dxc5,Qxc5,axb3,Bb7,Qd2,b4,Rf4,Ng6,Rxb4,Bc6,Rd4,Rae8,Ba3,Rxe2,Bxc5,Rxd2,Bxf8', 'Rxd4,Bc5,Rd1+', 'https://lichess.org/training/cfibR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CfiF6', 'Bullet', 'GM DrNykterstein', 3148, 'GM RebeccaHarris', 3013, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,g6,Nf3,Bg7,Bd3,d6,O-O,Bg4,h3,Bxf3,Qxf3,O-O,Qd1,Rc8,Be3,Nd7,Rb1,Nc5,Qd2,Ne5,Be2,a6,f4,Nc6,e5,Qa5,b4,Nxb4,Nd5,Nxd5,Qxa5,Nxe3,Rf3,Nxc2,Qd2,Ne4,Qd3,d5,Qxd5,Nc3,Rxc3,Rxc3,Rxb7,Bh6,Rxe7,Ne3,Qd2,Rfc8,Re8+,Rxe8,Qxc3,Bxf4,Bxa6,Nf5,Bc4,Rxe5,Kf2,Re3,Bxf7+,Kxf7', 'Qc4+,Kf6,Qxf4', 'https://lichess.org/training/CfiF6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfimA', 'Rapid', 'noblespud', 1725, 'Mr35vn', 1761, 'e4,e5,f4,exf4,Nf3,f6,Bc4,g5,h4,g4,Ng5,fxg5,Qxg4,d5,Qh5+,Ke7,Qxg5+,Nf6,Bxd5,Be6,Bxb7,h6,Qxf4,Nbd7,Bxa8,Qxa8,d3,Ng4,Nc3,c6,Bd2,a6,O-O-O,Qa7,Kb1,Bg7,Rhf1,Be5,Qf3,Bd4,Be1,Ne3,e5,Nxd1,Nxd1,Nxe5,Qe4,Bd5,Bb4+,Kd7,Qf5+,Be6,Qe4,a5,Ba3,Qb6,Re1,Bd5,Qf5+,Be6,Qe4,Bd5,Qe2,Re8,Qh5,Re6,g4,Nf3', 'Qf7+,Kc8,Rxe6', 'https://lichess.org/training/cfimA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfk0d', 'Blitz', 'Mau_5612', 1534, 'glauberinov', 1798, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bb5,e6,Nf3,Bb4,Qa4,Nge7,a3,Ba5,b4,Bc7,Bg5,O-O,O-O,a6,Bxc6,dxc6,b5,Qe8,bxc6,Nxc6,Be3,b5,Nxb5,Bd8,Nd6,Qd7,Bc5,Be7,Rfd1,Qc7,e5,Bb7,Rac1,Rfd8,Nxb7,Qxb7,Bxe7,Nxe7,Rxd8+,Rxd8,h3,g6,Qa5,Rb8,Rc7,Qb1+,Kh2,Nd5,Ra7,Qf5,Rxa6,Qf4+,Kh1,Qc1+,Qe1,Qc4,Ra5,Nf4,Qe3,Rb1+,Kh2', 'Rh1+,Kxh1,Qf1+,Kh2,Qxg2#', 'https://lichess.org/training/cfk0d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CfkQs', 'Blitz', 'AlexDr76', 1889, 'taraev', 2015, 'd4,d5,c4,dxc4,e3,c5,Bxc4,Qc7,d5,a6,e4,Nd7,Ne2,b5,Bd3,Nb6,O-O,e6,Bf4,Bd6,Bxd6,Qxd6,Nbc3,exd5,exd5,Nf6,Re1,O-O,Bc2,Bg4,f3,Bh5,Qd3,Bg6,Qd2,Bxc2,Qxc2,Rad8,Rad1,Rfe8,Kf2,Qxh2,Ng3,Nh5,Nce4,Nf4,Rg1,Nbxd5,Nxc5,Nb4,Qb1,h5,a3,Nbd5,Qf5,h4,Nge4,Rxe4,Nxe4,Re8,Qg4,f5,Qxf5,Rxe4,fxe4', 'Qg3+,Kf1,Ne3#', 'https://lichess.org/training/CfkQs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFM2J', 'Rapid', 'sithlich', 1761, 'sas555', 1862, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,Nc3,Bg4,d3,Nd4,Nd5,c6,Ne3,Bxf3,gxf3,Qg5+,Ng2,Qg6,Be3,h5,Bxd4,Bxd4,c3,h4,h3,Bb6,f4,exf4,Kh2,Qg3+,fxg3', 'hxg3+,Kh1,Rxh3#', 'https://lichess.org/training/CFM2J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cfmd6', 'Rapid', 'Miticals', 1996, 'Vismayy', 2012, 'e3,d5,Nf3,Nf6,c4,c6,cxd5,cxd5,Ne5,Bg4,Qa4+,Bd7,Nxd7,Nbxd7,b3,e6,Bb2,Be7,Bb5,O-O,Bxd7,Nxd7,O-O,Nc5,Qd4,f6,Ba3,Rc8,Rc1,e5,Qg4,f5,Qh5,g6,Qe2,Qd7,d4,Ne4,Rxc8,Rxc8,Bb2,exd4,exd4,Bf6,Nd2,Rc2', 'Nxe4,Rxe2,Nxf6+,Kg7,Nxd7', 'https://lichess.org/training/Cfmd6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CfmU6', 'Rapid', 'mahdipc1', 1711, 'Paul1959', 1798, 'd4,d5,Nc3,c6,Nf3,Nf6,Bf4,e6,e3,Nh5,Be5,f6,Bxb8,Rxb8,a3,g6,Bd3,Bd6,Nh4,f5,g3,O-O,g4,Ng7,Ng2,fxg4,Qxg4,e5,Qe2,exd4,Nd1,dxe3,Ndxe3,Re8,O-O-O,d4,Bc4+,Kh8,Rxd4,Nf5,Rd3,Qg5,f4,Bxf4,Nxf4,Qxf4,Qd2,Nxe3,Re1,Qxc4,Rdxe3,Rxe3,Qxe3,Bf5', 'Qe5+,Kg8,Qxb8+', 'https://lichess.org/training/CfmU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFOgp', 'Blitz', 'GM Anuar_Is', 2639, 'randy_segarra', 2547, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,f4,Qc7,Qe2,h6,Bxf6,Nxf6,e5,dxe5,fxe5,Bg4,Qe3,Nd7,h3,Be6,Nxe6,fxe6,O-O-O,O-O-O,Re1,g5,h4,Bg7,hxg5,hxg5,Rxh8,Rxh8,Qxg5', 'Bh6,Qxh6,Rxh6', 'https://lichess.org/training/CFOgp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfPCH', 'Classical', 'ebcphoenix', 1767, 'Yann1k94', 1766, 'd4,e6,e4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bd3,Rc8,O-O,cxd4,cxd4,Nb4,Nc3,Nxd3,Qxd3,Ne7,Ng5,h6,Nh3,Nf5,f4,Be7,Kh1,g5,g4,Ng7,f5,exf5,Nxd5,fxg4,Nf6+,Bxf6,exf6,Ne6,Nf2,Bc6+,Kg1,Qd5,Qg3,Nf4,Bxf4,gxf4,Qxg4,Qg5,Rae1+,Kd8,Qxg5,hxg5,Ng4,Kc7,Re7+,Kb6,Rxf7,Bd5,Rd7,Bxa2,Ne5,Rc2,Rf2,Rxf2,Kxf2,Rxh2+,Kf3,Rxb2,f7,Bxf7,Nxf7,Kc6,Rd6+,Kc7,Rg6,Rb3+,Ke4,Re3+,Kf5,f3,Ne5,f2,Rg7+,Kb6', 'Nc4+,Kb5,Nxe3', 'https://lichess.org/training/cfPCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfPEp', 'Classical', 'chessfiend007', 1786, 'par1998', 1956, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,f5,exf5,Bxf5,Qf3,Nd4,Qc3,Rc8,Qe3,Nxc2+,Nxc2,Rxc2,Bd3,Bxd3,Qxd3,Rxb2,O-O,Bh6,Qf3,O-O,Rfe1,Rd2,Nf6+,Kg7,Nh5+,Kg6,Qg4+,Bg5,h4,f5,Qxg5+,Qxg5,hxg5,Kxh5,a3,Kxg5,Rac1,Ra2,Rc6,Rxa3,Rxd6,Rc8,Rxe5,Rc4,Rdd5,Ra1+,Kh2,Rh4+,Kg3,Ra3+,f3,Rf4,Rd8,b4', 'Rg8+,Kf6,Kxf4', 'https://lichess.org/training/cfPEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfPsH', 'Blitz', 'Vizir2019', 1875, 'vonWerlich', 1866, 'e4,e5,f4,exf4,Nf3,d6,d4,g5,Bc4,Nc6,O-O,h6,h3,Bg7,c3,Bd7,Bd3,Qf6,Nbd2,O-O-O,b4,Nge7,Bb2,Ng6,a4,Qe7,a5,a6,b5,axb5,Bxb5,Nb8,Bd3,g4,hxg4,Bxg4,a6,bxa6,Bxa6+,Nxa6,Rxa6,Bxf3,Nxf3,Nh4,Qd3,Nxf3+,Rxf3,Qh4,Rf1,Rhg8,Qb5,Bxd4+,cxd4,Rxg2+,Kxg2,Rg8+,Kf3,Qh3+,Ke2,Rg2+,Ke1', 'Qe3+,Kd1,Qd2#', 'https://lichess.org/training/cfPsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cfq3m', 'Blitz', 'FM Los5hermanos', 2263, 'Camilo74', 2210, 'e4,c6,d4,d6,Nc3,g6,Be2,Bg7,h4,h5,Nh3,b5,a3,a5,Ng5,Nd7,O-O,Nh6,d5,cxd5,Nxd5,Rb8,Be3,O-O,Qd2,e6,Nf4,Ne5,f3,Qe7,Rad1,Rd8,Nd3,Nc4,Qc1,Nxe3,Qxe3,Bd7,Qa7,Qe8,Nf4,Ra8,Qc7,Bc6,Rxd6,Rdc8,Qb6,Be5,Nfxe6,fxe6', 'Rxe6,Qxe6,Nxe6', 'https://lichess.org/training/Cfq3m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfr18', 'Rapid', 'smarine', 1915, 'ils120182', 1926, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,O-O,Be6,f4,exf4,Bxf4,Qc7,Bf3,Nbd7,Nd5,Bxd5,exd5,Ne5,Qd4,O-O,c3,Nfd7,Be4,Bf6,Qf2,g6,h3,Bg7,Nd4,Rae8,Rae1,Nc5,Bxe5,Bxe5,Nf5,Nxe4,Rxe4,Bh2+,Kxh2,Rxe4,Nh6+,Kg7,Ng4,f5,Ne3,Qc5,Re1,Rfe8,b4,Qa7', 'Nxf5+,gxf5,Qxa7', 'https://lichess.org/training/cfr18');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfrMh', 'Rapid', 'saqws3', 1815, 'Spirit06', 1795, 'd4,c5,d5,Nf6,c4,b5,b3,a6,Bb2,d6,Nf3,g6,Qc2,Bg7,e4,O-O,Bd3,Nbd7,Nbd2,Ng4,h3,Nge5,h4', 'Nxd3+,Qxd3,Bxb2', 'https://lichess.org/training/cfrMh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CfRyo', 'Blitz', 'nazer009', 1679, 'Chuckaranha', 1668, 'Nf3,f6,g3,Kf7,Bg2,d5,O-O,e6,Na3,Bxa3,bxa3,Nc6,Bb2,Nge7,d3,Bd7,Nd2,Rf8,e4,dxe4,dxe4,e5,f4,Kg8,fxe5,Nxe5,Nf3,N7c6,Nxe5,Nxe5,Qd5+,Kh8', 'Bxe5,fxe5,Rxf8+,Qxf8,Qxd7,Qc5+,Kh1', 'https://lichess.org/training/CfRyo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFSKv', 'Rapid', 'Teobas', 1804, 'Glirakus', 2079, 'd4,Nf6,Nf3,c6,e3,d5,Bd3,Bg4,Nbd2,e6,b3,Bd6,Bb2,O-O,h3,Bf5,Bxf5,exf5,Ne5,Re8,O-O,Nbd7,Ndf3,Nf8,c4,a5,c5,Bc7,a3,a4,b4,Qb8,Qc2,Ne4,Nd2,f6,Nd3,g5,f3', 'Bh2+,Kh1,Ng3+,Kxh2,Nxf1+', 'https://lichess.org/training/CFSKv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFT7K', 'Classical', 'buster443', 1862, 'pcladunio', 1900, 'd4,d5,e3,Nc6,Nf3,Bf5,a3,Nf6,b4,a5,b5,Na7,a4,e6,Bb2,Bb4+,c3,Bd6,Nbd2,c6,c4,cxb5,c5,Bc7,axb5,Qd7,b6,Nc8,bxc7,Qxc7,Bb5+,Ke7,Ba3,Kd8,O-O,h5,Ng5,Bg6,Ndf3,h4,Ne5,Rh5,Ngxf7+,Bxf7,Nxf7+,Qxf7,c6,bxc6,Bxc6,Ra6,Rc1,Na7,Bb5,Nxb5,Qa4,Nxa3,Qxa3,Qe7', 'Rc8+,Kd7,Rc7+,Kxc7,Qxe7+', 'https://lichess.org/training/CFT7K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cfueb', 'Rapid', 'bor123', 1614, 'dz3ms', 1662, 'd4,Nf6,c4,g6,e3,d5,a3,Bg7,b4,a5,Bb2,axb4,axb4,Rxa1,Bxa1,dxc4,Bxc4,O-O,Nf3,c6,O-O,b5,Bd3,Be6,Bc3,Nd5,Be4,Nxc3,Nxc3,f5,Bd3,Na6,Qb1,Qd6,Ng5,Bf7,Nxf7,Rxf7,Na2,e5,dxe5,Bxe5,g3,c5,bxc5,Nxc5,Rd1,Nxd3,Rxd3,Qc5,Qb3,Qc4,Kg2,Qxb3,Rxb3,Rb7,Nb4,Bd6,Nc6,Kf8,Nd4,b4,Nc6,Rb6,Nd4,Be5,Nf3,Bc3,Rb1,b3,Kf1,b2,Ne1,Bxe1,Kxe1,Ke7,Kd1,Ke6,Kc2,Ke5,Rxb2', 'Rxb2+,Kxb2,Ke4', 'https://lichess.org/training/Cfueb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFuUI', 'Rapid', 'LM PeshkaCh', 1651, 'wilce', 1868, 'c4,e5,Nc3,Nf6,d4,exd4,Qxd4,Nc6,Qd1,Bb4,Bd2,O-O,Qb3,a5,a3,Nd4,Qd1,Bc5,e3,Nf5,Bd3,d6,e4,Nd4,Be3,Ng4,Bxd4,Bxd4,h3,Nxf2,Qf3,Nxh1,O-O-O,Nf2,Rf1,Nxd3+,Qxd3,Bxc3,Qxc3,Qg5+,Kb1,Qxg2,Qe1,Be6,Rf2,Qg6,Nf3,Bxc4,Nh4,Qg3,Nf5,Qb3,Qg1,Qa2+,Kc2,Bb3+,Kc3,g6,Ne7+,Kh8,Qg5,Be6', 'Qf6#', 'https://lichess.org/training/CFuUI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfUyO', 'Rapid', 'FrenchFries', 1725, 'dnlpish', 1687, 'd4,d5,e3,e5,c3,e4,f4,c5,g3,c4,b4,b5,a4,Bd7,axb5,Bxb5,Na3,Bc6,Bg2,f5,h4,Be7,Bh3,Qd7,Ne2,Nf6,Kf2,Ng4+,Bxg4,fxg4,Bb2,O-O,Nb1,Qf5,Ba3,a5,b5,Bxa3,bxc6,Bd6,Qa4,Rc8,Qb5,Nxc6,Nd2,Rab8,Qa4,Rb2,Rhd1,Ne5,dxe5,Bxe5,Nd4,Bxd4,cxd4,c3,Ke1,cxd2+,Rxd2,Rxd2,Kxd2,Ra8,Qb5,h5,Rxa5,Rxa5,Qxa5,Kh7,Qd8,Qf6,Qxd5,Qg6,Qg5,Qxg5,hxg5,Kg6,Kc3', 'h4,gxh4,g3', 'https://lichess.org/training/cfUyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cfv3F', 'Blitz', 'Yamatokim', 1870, 'CapricornSoul', 2084, 'e4,c5,Nf3,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,c4,Qd6,Qc2,Nc6,a3,g6,d3,Bg7,g3,Bf5,Bf4,Qd7,Be2,Rd8,Rd1,O-O,O-O,Nd4,Nxd4,Bxd4,Kg2,Bh3+,Kg1,Bxf1,Bxf1,Qf5,Bg2,b6,Be4,Qg4,Bh6,Rfe8,Kg2,f5,Bd5+,Rxd5,cxd5,Rd8,Qc4,Qxd1,d6+,e6,Qxe6+,Kh8,d7,Qxd3', 'Qe8+,Rxe8,dxe8=Q#', 'https://lichess.org/training/Cfv3F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cfv9d', 'Rapid', 'Chessplayer07', 1843, 'Efrasim', 1851, 'e4,g6,d4,Bg7,Nc3,a6,a4,d6,Be3,b6,Qd2,Nd7,f3,Bb7,Bc4,e6,Nge2,Rc8,Qd3,c5,Bxa6,Bxa6,Qxa6,cxd4,Bxd4,e5,Be3,Ngf6,Qd3,O-O,Qxd6,Nc5,Qxe5,Nfxe4,Qd5,Nxc3,Nxc3', 'Bxc3+,bxc3,Qxd5', 'https://lichess.org/training/Cfv9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFVDv', 'Rapid', 'xIamLegend', 1848, 'Lucamad', 1888, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,Nf6,Bf4,Ne4,Qc2,Nc6,a3,Bxc3+,bxc3,f6,e3,e5,Bg3,Nxg3,fxg3,e4,Nd2,O-O,cxd5,Qxd5', 'Bc4,Qxc4,Nxc4', 'https://lichess.org/training/CFVDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CfVSV', 'Blitz', 'cucurbio', 1743, 'JCMorenoB', 1730, 'f4,Nc6,Nf3,d5,e3,Bg4,Be2,e5,fxe5,Bxf3,Bxf3,Nxe5,O-O,Nf6,b3,Qd6,Bb2,O-O-O,Nc3,Ne4,Nb5,Qa6,Bxe5,Qxb5,Bg4+,Kb8,Rxf7,Bd6,Bxd6,Nxd6,Rxg7,Rhf8,d3,d4,e4,Qe5,Rxh7,Nb5,Rh5,Qf6,Rxb5,Qf2+,Kh1,Rf4,Bf3,Rh8,Qe1', 'Rxh2+,Kxh2,Rh4#', 'https://lichess.org/training/CfVSV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFVV4', 'Blitz', 'wak-aulia', 1638, 'SayIt', 1658, 'e4,e6,Nf3,d5,e5,c5,d4,Nc6,c3,f6,Bb5,Qb6,Bxc6+,bxc6,O-O,fxe5,Nxe5,Nf6,Nd2,Bd6,Ndf3,O-O,Bg5,Qc7,Bxf6,Rxf6,Ng5,Bxe5,dxe5,Qxe5,Qh5,h6,f4,Rxf4', 'Qe8+,Rf8,Rxf8#', 'https://lichess.org/training/CFVV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CfwOE', 'Blitz', 'Revish', 1964, 'Mentore', 2241, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Be2,g6,Be3,Bg7,O-O,d6,c4,Nf6,Nc3,O-O,f3,Nd7,Rc1,e6,Kh1,h5,Nc2,Qa5,Bd2,Qb6,b3,Qc7,Ne3,Nd4,Nc2,Nxe2,Nxe2,b6,Bc3,Ne5,Ne3,Bb7,Bd4,Rad8,Qc2,Qc6,Ba1,Rc8,Nd4,Qc7,Qd2,Nc6,Nxc6,Qxc6,Bxg7,Kxg7,Qd4+,Kg8,Rfd1,Rfd8,Qf6,Qc5,Qd4,Qc6,Qf6,a5,Rc2,Ba6,Rcd2,b5,cxb5,Bxb5,g3,a4,Qf4,axb3,axb3,Qc3,b4,Ba4,Rd3,Qxb4,R1d2,Rc1+,Kg2,Qb1,Kh3,Bd7,g4,hxg4+,Nxg4,e5,Qg5,Bxg4+,fxg4,Rf8,Rxd6,Qxe4,Rf2,Rc3+,Kh4,Qe3', 'Rxg6+,fxg6,Qxg6+,Kh8,Rxf8#', 'https://lichess.org/training/CfwOE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfwuF', 'Rapid', 're-am', 2002, 'mehrab58', 1786, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Be7,e3,c6,Bd3,O-O,O-O,dxc4,Bxc4,Nd5,Qd3,Nxc3,bxc3,Nd7,Bb3,Nf6,e4,a5,e5,Nd5,c4,Nb4,Qe4,f5,exf6,Bxf6,a3,Na6,Bc2,g6,Bh6,Rf7,Ne5,Bxe5,Qxe5,Qc7,Qe4,Bd7,Bb3,c5,d5,e5,Rae1,Re8,Rd1,Qd6,Rfe1,Bf5,Qe3,Nb8,f4,Nd7,Ba4,e4,h3,Ree7,g4,Nb6,Bg5,Nxa4,Bxe7,Rxe7,gxf5,gxf5,Rc1,Nb6,Kh2,Nd7,Rg1+,Kf8,Qg3,Nf6,Rgf1,Rg7,Qh4,Qe7,Qf2,Qf7,Rg1,Rxg1,Qxg1,Qh5,Rb1,Qh4,Qg3,Qh5,Rxb7,Qe2+,Qg2,Qxg2+,Kxg2,Nh5,Rb5,Nxf4+,Kg3,Nd3,Rxa5,f4+,Kg2,e3,Kf3', 'Ne5+,Kxf4,e2', 'https://lichess.org/training/cfwuF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfXfW', 'Blitz', 'geomck', 1844, 'OliveiraLucas', 1748, 'e4,c5,Nf3,g6,c4,Bg7,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,d6,Be2,O-O,O-O,a6,f3,Nd7,Qd2,Re8,Rfd1,Qc7,Rac1,a5,Nd5,Qb8,f4,Nc5,Bf3,e6,Nb6,Ra6,Nxc6,bxc6,Nxc8,Qxc8,Qxd6,Bxb2,Qxc5,Bxc1,Rxc1,a4,f5,exf5,exf5,Qxf5,Qxf5,gxf5,Bc5,Re5,Bd4,Re6,Rb1,Kf8,Rb8+,Ke7,Bc5+,Kf6,Rh8,Re1+,Kf2,Ra1,Rxh7,Rxa2+,Kg3,a3,Rh6+,Kg7,Rd6,Rc2,Bh5,a2,Bd4+,Kh7,Bxf7,a1=Q,Bxa1,Rxa1,Be6,Kg6,Bd7+,Kg5', 'h4+,Kh5,Be8#', 'https://lichess.org/training/cfXfW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFXhG', 'Blitz', 'soulz', 1608, 'muzaffer1972', 1726, 'Nf3,e6,b3,Nf6,Bb2,Be7,e3,d5,Be2,c5,Ne5,Nc6,f4,Bd7,O-O,Rc8,d4,cxd4,exd4,O-O,Nd2,Qb6,Ndf3,Nxe5,fxe5,Ne4,Bd3,Bb5,Bxb5,Qxb5,Nd2,Nc3,Bxc3,Rxc3,Rf3,Rfc8,Qf1,Qe8,Rxc3,Rxc3,Qf4,Rxc2,Nf3,Ba3,Ng5,Bb2,Rf1,Rc7,Qd2,Bc3,Qf4,a6,Rf3,Bb2,Rh3,Rc1+,Kf2,Rc2+,Kg3,Rc3+,Nf3,Rd3,Rh5,Bxd4,h3,Bb6,Kh2,Re3,Ng5,Qe7,Rxh7,Bc7,Rh8+,Kxh8', 'Qh4+,Kg8,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/CFXhG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cfxLc', 'Rapid', 'kazak-1310', 1859, 'Raghav_Palani', 1785, 'c4,e5,g3,b6,Nc3,Bb7,Nf3,Bxf3,exf3,Nf6,Bg2,Bb4,O-O,Bxc3,bxc3,O-O,d4,exd4,cxd4,d5,Qd3,dxc4,Qxc4,Nbd7,Bg5,h6,Bf4,Rc8,Rad1,Qe7,Rfe1,Qa3,Re3,Qa5,Rc3,Nd5,Rcc1,Nxf4,gxf4,Nf6,Bh3,Rb8,Qxc7,Nh5,Rc2,f5,Rdc1,Rbc8,Qe5,Qxe5,fxe5,Rxc2,Rxc2,Nf4,Bf1,Rd8,Rd2,Ne6,d5,Nf4,d6,Ng6,Bc4+,Kf8,e6,Ke8,Bb5+,Kf8,Kg2,Nf4+,Kg3,Nxe6,Rd5,g6,f4,Nc7,Rxf5+', 'gxf5,dxc7,Rc8,Bd7,Rxc7', 'https://lichess.org/training/cfxLc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CFXRq', 'Rapid', 'ZubairAfras', 1934, 'Leonid_99', 1936, 'd4,d5,c4,e6,Nc3,c6,Nf3,Nf6,Bg5,Be7,e3,O-O,Bd3,Re8,O-O,a6,e4,dxe4,Bxe4,Nxe4,Nxe4,f5,Bxe7,Rxe7,Nc3,b6,b3,Nd7,d5,cxd5,cxd5,Nf6,d6,Rd7,Re1,Rxd6,Qe2,Qc7,Rac1,Qe7,Nh4,Bb7', 'Nxf5,Qd7,Nxd6', 'https://lichess.org/training/CFXRq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CG3HT', 'Blitz', 'kabity', 2096, 'Unuk', 2078, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Nf3,g6,h3,Bg7,O-O,O-O,Bg5,Bf5,Bxf5,gxf5,Qc2,Ne4,Bf4,e6,Nbd2,Kh8,Nh2,Rg8,f3,Qh4,fxe4,fxe4,Nb3,b6,Qf2,Qe7,Ng4,f5,Ne5,Rac8,Nxc6,Rxc6,Kh1,Bf6,Rg1,Bh4,g3,Bg5,Rg2,a5,Rag1,a4,Nc1,a3,b3,Rxc3,Be5+,Bf6,Bxf6+,Qxf6,Qe1,Rf3,Ne2,Qh6,Kh2,Rg6,Qb4', 'Qxh3+,Kxh3,Rh6#', 'https://lichess.org/training/CG3HT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cg4JC', 'Classical', 'DUVICQ1960', 1837, 'sm1968', 1760, 'e4,c6,Nc3,d5,Nf3,Bg4,h3,Bh5,exd5,cxd5,g4,Bg6,Bb5+,Nc6,Ne5,Rc8,h4,h6,Nxg6,fxg6,d4,e6,Qd3,Qf6,Be3,Bb4,O-O-O,Ne7,f4,a6,Ba4,b5,Bb3,Na5,Nxb5,axb5,Qxb5+,Nec6,Kb1,Qe7,c3,Bd6,Bc2,Qf7,h5,O-O,Bxg6,Qb7,Qxb7,Nxb7,g5,Bxf4,Bxf4,Rxf4,gxh6,gxh6,Rhg1,Kg7,Rde1,Rf6,Re3,Rcf8', 'Be8+,Kh8,Bxc6', 'https://lichess.org/training/cg4JC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cg9y2', 'Blitz', 'wolf125', 1891, 'WFM Idrisova_Roza', 2237, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c3,Bg4,Be2,e6,O-O,Nf6,h3,Bh5,Bg5,Be7,Bh4,O-O,Bg5,a6,Bxf6,Bxf6,Nh2,Bg6,Ng4,Be7,Bd3,b5,Be2,b4,Nd2,bxc3,bxc3,Na5,Nb3,Qc7,Nxa5,Qxa5,Qd2,Rfc8,Rfc1,Rab8,Ne5,Qa3,Nd7,Rb2,Qe3,h6,Ne5,Bf5,Bg4,Be4,Qf4,Rf8,Nd7,Bg5,Qg3,Rd8,Nc5,Bxc1,Rxc1,Rxa2,Re1,Ra1,Rxa1,Qxa1+,Kh2,Bg6,Bxe6,a5,Qxg6,fxe6,Qxe6+,Kh8,Qg6,Qxc3', 'Ne6,Qc7+,Nxc7', 'https://lichess.org/training/Cg9y2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgAMp', 'Rapid', 'hatemomran97', 1993, 'khaled287', 1897, 'd4,e6,c4,b6,Nc3,Bb7,e4,Bb4,Bd2,Bxc3,Bxc3,Bxe4,Qg4,Bg6,Qf3,Nc6,d5,exd5,Bxg7,Qe7+,Be2,Nd4,Bxd4,f6,Qxd5,Be4,Bh5+,Kf8,Bc5,Bxd5+', 'Bxe7+,Nxe7,cxd5', 'https://lichess.org/training/cgAMp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cGbJW', 'Rapid', 'juleSWG', 1842, 'vlad1954', 1831, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Qe7,Nbd2,Nf6,Qe2,g6,e5,d5', 'exf6,Qxe2+,Bxe2', 'https://lichess.org/training/cGbJW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cGBny', 'Rapid', 'Zote_M', 2240, 'jonnnyboy2000', 2348, 'c4,e6,Nc3,Nf6,d4,Bb4,Qc2,Nc6,Nf3,d6,g3,O-O,Bg2,e5,d5,Ne7,O-O,Bxc3,Qxc3,h6,b4,b6,Bb2,a5,a3,Ng6,Rfd1,Ne4,Qc2,f5,Nd2,Nxd2,Rxd2,f4', 'Qxg6,Bf5,Qh5', 'https://lichess.org/training/cGBny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGbz2', 'Bullet', 'intmail', 1603, 'Lev_Warrior', 1607, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxf7,Kxf7,Bc4+,d5,exd5,Na5,Bb5,c6,dxc6,Nxc6,O-O,a6,Bc4+,Be6,Bxe6+,Kxe6,Re1+,Kf7,Nc3,Bc5,d3,Re8,Bg5,Qd4,Qf3,Ne5,Qxb7+,Kg8,Qb3+,Kf8,Be3,Qd6,Bxc5,Qxc5,Rad1,Neg4,d4,Qh5,h3,Qh4,Qb4+,Kg8,Qc4+,Kf8,Qc5+,Kg8,hxg4,Nxg4,Rxe8+', 'Rxe8,Ne4,Qh2+,Kf1,Qh1+', 'https://lichess.org/training/CGbz2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgDtr', 'Classical', 'LoveVision', 1608, 'namsif', 1679, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Bd3,d5,exd5,Qxd5,Nf3,Bg4,Nc3,Bxf3,Nxd5,Bxd1,Nc7+,Kd8,Nxa8,Bh5,Be3,Kc8,f3,Kb8,g4,Bg6,Bxg6,hxg6,Nb6,axb6,Bxb6,Ne5,O-O-O,Nc6,b4,e6,b5,Na7,Rd8+,Nc8,Rhd1,Ba3+,Kb1,Rxh2', 'Rxc8+,Kxc8,Rd8#', 'https://lichess.org/training/cgDtr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGedk', 'Blitz', 'astrovaldo', 1748, 'madmatthes', 1724, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,Be3,a6,Qf3,Bb4,a3,Bxc3+,bxc3,Ne5,Qg3,Qxc3+,Ke2,Ng6,Rd1,Nf6,Qd6,Nxe4,Qb4,Qxb4,axb4,Nc3+,Kd2,Nxd1,Kxd1,O-O,Bd3,d5,h4,h6,h5,Ne7,g4,Nc6,g5,hxg5,h6,Nxb4,hxg7,Kxg7,Rh7+,Kf6,Rh6+,Ke7,Bxg5+,Ke8,Be2,Bd7,c3,Nc6,Nf3,b5,Kd2,Na5,Ne5,Nc4+,Nxc4,bxc4,Kc2,Ba4+,Kd2,Bb3,Bh5,Ra7', 'Rxe6+,Kd7,Re7+,Kc6,Rxa7', 'https://lichess.org/training/CGedk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGeRo', 'Rapid', 'Nath74oo', 2286, 'ZZZZXXXXYYYY', 2250, 'g4,d5,g5,e5,h4,Nc6,Bg2,Be6,c3,h6,Qb3,Rb8,d4,exd4,cxd4,Nxd4,Qa4+,Nc6,Nc3,Bb4,a3,Bxc3+,bxc3,hxg5,Bxg5,Nf6,Qf4,Qd6,Qxd6,cxd6,Rd1,Ne7,e3,Rc8,Bxf6,gxf6,h5,Rxc3,Ne2,Rxa3,Nd4,Kd7,Nb5,Ra5,Nd4,Nc6,h6,Ne5,h7,Ng6,Rb1,b6,f4,f5,Bf1,Nf8,Bb5+,Kc7,Rc1+,Kb7,Bc6+,Ka6,Rh6,Rxh7,Nc2,Rc5', 'Ra1+,Ra5,Nb4#', 'https://lichess.org/training/CGeRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgEw3', 'Rapid', 'Vancy2005', 1846, 'avocadoranch666', 1813, 'e4,Nc6,Nf3,e5,Bc4,h6,c3,Nf6,d3,Bc5,O-O,d6,Re1,Bg4,Nbd2,Qd7,Nf1,O-O-O,Be3,Kb8,Bxc5,dxc5,Ne3,Bxf3,Qxf3,Na5,Red1,Nxc4,dxc4,Qc6,Nd5,Nxd5,cxd5,Qg6,Qe3,b6,Qg3,Qxe4,Qxg7,f5,f3,Qe3+,Kf1,e4,Qe5,Qg5,fxe4,Rhf8,Kg1,Rde8,Qg3,Qxg3,hxg3,fxe4,d6,cxd6,Rxd6,Rg8,Rxh6,Rxg3,Re1,Rd3,Re2,e3,Rh3,Rd1+,Kh2,Rd3,g4', 'Rd2,Rxd2,exd2,Rd3,Re2+,Kg3,Re3+,Rxe3,d1=Q', 'https://lichess.org/training/cgEw3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cGFb1', 'Rapid', 'leonidas20', 1947, 'marvelmedusa', 2059, 'e4,c5,Nc3,d6,g3,g6,Bg2,Bg7,d3,Nc6,Be3,a6,Qd2,b5,Nge2,Nf6,O-O,O-O,Bh6,Be6,Bxg7,Kxg7,f4,Bg4,h3,Bxe2,Nxe2,Rc8,g4,Nd4,Ng3,Qb6,c3,Nc6,f5,Rfd8,g5,Nd7,f6+,exf6,gxf6+,Kh8,Qh6,Rg8,Rf4,c4+,d4,Nxd4', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/cGFb1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGHNq', 'Rapid', 'OYING1983', 1664, 'Quique62', 1656, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qa4,a6,Bc4,b5,Bxb5,axb5,Qxa8,Bd6,O-O,Nf6,Nc3,Qe7,Re1,O-O,Nxb5,Bxh2+,Kxh2,Ng4+,Kg1,Qe5,f4,Qh5,f5,Qh2+,Kf1,d5,Qa3', 'Qh1+,Ke2,Qxg2+', 'https://lichess.org/training/CGHNq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cGHr9', 'Rapid', 'Ahme2020d', 1683, 'zarbits', 1950, 'e4,d6,Nf3,e5,d4,exd4,Nxd4,g6,b3,Bg7,Bb2,Nf6,Bd3,O-O,O-O,b6,Nd2,Bb7,Re1,Nbd7,N2f3,Re8,Ng5,h6,Nxf7,Kxf7,Bc4+,d5,exd5,Rxe1+,Qxe1,Nxd5,Ne6,Qh4,Bxg7,Re8,Qd2,c6,Bxd5,cxd5,Qf4+', 'Qxf4,Nxf4,Kxg7', 'https://lichess.org/training/cGHr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cghzE', 'Blitz', 'ardisukma', 2012, 'jgarciaj', 2106, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,Be3,Be7,Qd2,Nbd7,O-O-O,O-O,Kb1,b5,f3,Qc7,g4,b4,Nd5,Bxd5,exd5,a5,g5,Ne8,h4,a4,Nc1,b3,a3,bxc2+,Qxc2,Qxc2+,Kxc2,Rb8,Nd3,f5,Nb4,f4,Bf2,e4,Kb1,e3,Be1,Ne5,Bc3,Nc7,Bxe5,dxe5,Nc6,Bxa3,Nxb8,Rxb8,d6,Rxb2+,Ka1,Ne6,Bc4,Kf7,d7,Ke7,Bxe6,Bd6,d8=Q+,Kxd8,Rxd6+,Ke7,Ra6,Rf2,Bd5,e2,Re1', 'Rf1,Kb2,Rxe1,Re6+,Kd7', 'https://lichess.org/training/cghzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGJ6j', 'Blitz', 'FM sanroto', 2296, 'IM jacosta-777', 2465, 'e4,c5,c4,d6,Nc3,Nc6,Nf3,Bg4,Be2,g6,d3,Bg7,Be3,e6,O-O,Nge7,Qd2,O-O,Bh6,Bxf3,Bxf3,Nd4,Be2,Nec6,Bxg7,Kxg7,f4,f5,Bf3,Rb8,Ne2,Nxe2+,Qxe2,Nd4,Qd2,a6,exf5,gxf5,b3,Kh8,Rae1,Rg8,Qb2,Qf6,Re3', 'Nxf3+,Rexf3,Qxb2', 'https://lichess.org/training/CGJ6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgjro', 'Rapid', 'jakobchessbaz', 1864, 'evgeniy18101507', 1851, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,e6,O-O,Nf6,Bg5,Be7,c4,Nc6,cxd5,Nxd5,Bxe7,Qxe7,Nbd2,O-O,Ne4,f5,Nc3,Rac8,h3,Bh5,Rc1,Nxc3,bxc3,Qf6,Nh2,Bxe2,Qxe2,Na5,Rfe1,Rfe8,Nf3,Nc4,Qd3,a6,d5,e5,Rb1,e4,Qd4,exf3,Rxe8+,Rxe8,Qxc4,Kh8,gxf3,f4,Qd4', 'Qg6+,Kh2,Qxb1', 'https://lichess.org/training/cgjro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cGl4N', 'Rapid', 'simnar', 2057, 'ishtiaq', 2084, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nde2,Be7,O-O,Be6,Kh1,O-O,f4,Bg4,h3,Bxe2,Qxe2,Nc6,f5,Nd4,Qf2,d5,Be3,Bc5,g4,Nxc2,Bxc2,d4,Bg5,dxc3,Qxc5,cxb2,Rab1,Nxe4,Bxe4,Qxg5,Rxb2,Rac8,Qxe5,Rfe8,Qf4,Qh4,Kg2,Rc4,Re2,b5,Bd3', 'Rxe2+,Bxe2,Rxf4', 'https://lichess.org/training/cGl4N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGlYu', 'Classical', 'pacmanoncrack', 1830, 'seddigh962', 1883, 'd4,d5,c4,dxc4,e4,e5,Qa4+,Nc6,dxe5,Bb4+,Bd2,Bd7,Bxb4,Nxe5,Qc2,b5,Nc3,Nf6,Bc5,a5,f4,Neg4,h3,Nh6,g4,Nhg8,e5,Nxg4,hxg4,Bxg4,Be2,Qc8,O-O-O,Ne7,Bxg4,Qxg4,Nge2,b4,Bxe7,Kxe7,Nd5+,Kf8,Qxc4,g6,Rhg1,Qh3,Qxc7,Rc8,Rg3', 'Rxc7+,Nxc7,Qc8', 'https://lichess.org/training/CGlYu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgm7w', 'Blitz', 'FillodeJosedeAmelia', 2186, 'CM masterhec', 2256, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Bd3,Qe7,Qe2,Qxe5,Bxe4,c6,d4,Qe7,d5,cxd5,Bxd5,Qxe2+,Kxe2,Nc6,c3,Bc5,Be3,Bxe3,Kxe3,O-O,Nd2,d6,f4,Be6,Bf3,d5,Nb3,Rad8,Rhd1,f6,Nd4,Bf7,Rd2,Rfe8+,Kf2,Na5,b3,Rc8,Ne2,Red8,Rad1,d4,Rxd4,Rxd4,Rxd4,Be6,c4,Kf7,Bd5,Nc6,Re4,Bxd5,cxd5,Ne7,d6,Nf5,d7,Rd8,Ra4,a6,g4,Nd6,Rd4,Rxd7,Kf3,Ke7,h4,Rc7,Rd2,b5,h5,g6,h6,f5,g5,Ne4,Rd5,Nc3,Re5+,Kd6,Nxc3,Rxc3+,Re3,b4,Rxc3,bxc3,Ke3,Kd5,a3,c2,Kd2,Ke4,b4,Kxf4,a4,Ke5,Kxc2,Kd5,Kd3,Kc6,Ke3,Kd6,Kf4', 'Kd5,Ke3,Kc4', 'https://lichess.org/training/cgm7w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cGmDU', 'Rapid', 'Dac1957', 1991, 'qtlayla', 2019, 'd4,d5,c4,e6,Nc3,Nf6,e3,b6,Nf3,Bd6,cxd5,exd5,a3,O-O,Bd3,c6,h3,Re8,O-O,Bb7,Qc2,Qe7,Bd2,Nbd7,Rfe1,Ne4,Rac1,Rac8,Qb1,c5,Bb5,a6,Bxd7,Qxd7,Re2,a5,Be1,Ba6,dxc5,Rxc5,Nd4,Bb8,f3,Nxc3,bxc3,Qd6,f4,Bxe2,Nxe2,Rxe3,Qc2,Qe7,Kf2,Rc8,Nd4,Re8,Bd2,Qh4+,Kg1,Bxf4,Nf5,Re1+,Bxe1', 'Rxe1+,Rxe1,Qxe1#', 'https://lichess.org/training/cGmDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgMrx', 'Rapid', 'KURT-CEBE', 1757, 'nicaneur', 1790, 'e4,e6,Nf3,d5,Nc3,d4,Nb5,c5,c3,a6,Na3,Nc6,cxd4,cxd4,b3,g6,d3,Qa5+,Qd2,Qxd2+,Nxd2,Bb4,Nc2,Bd6,Bb2,e5,Be2,Nf6,O-O,O-O,f4,exf4,Nxd4,Nxd4,Bxd4,Nd7,Nc4,Bc5,Bxc5,Nxc5,Rxf4,Ne6,Rf2,Nd4,Bf3,Be6,Ne5,Rac8,Raf1,Nxf3+,Rxf3,Rc2,R3f2,Rxf2,Kxf2,Rc8,Ke3,Kg7,d4,Rc3+,Nd3,b6,d5,Bd7,Kd2', 'Rxd3+,Kxd3,Bb5+,Kd4,Bxf1', 'https://lichess.org/training/cgMrx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGMUh', 'Rapid', 'MGBigFan', 1629, 'MGstut', 1647, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,Nd7,Nf3,e6,O-O,Ngf6,Re1,Nxe4,Bxe4,Bxe4,Rxe4,Bd6,Ng5,O-O,Qh5,Nf6,Qh3,h6,Rh4,Be7,Ne4,Nxe4,Rxe4,Bf6,Rg4,Kh7,Qd3+,Kh8,Qh3,Kh7,Rf4,Bxd4', 'Qd3+,Kg8,Rxd4', 'https://lichess.org/training/CGMUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGn3P', 'Rapid', 'jck_jck', 1976, 'wasiwan', 1936, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,O-O,Nf6,d4,exd4,cxd4,Bb4,e5,Ne4,d5,Na5,Qd3,Nc5,Qd4,O-O,Bd2,Bxd2,Nbxd2,b6,Rfe1,Re8,Qf4,Qe7,Ng5,Ba6,d6,cxd6,Bxa6,dxe5,Qg3,Nxa6,Nde4,f6,Nf3,Nc5,Nc3,Qe6,Rad1,Rad8,Nd4,Qc4,Nf5,Qf7', 'Nh6+,Kf8,Nxf7', 'https://lichess.org/training/CGn3P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgnaJ', 'Bullet', 'Otpolzator', 1810, 'accurateinaccuracy', 1823, 'e4,c5,d4,cxd4,Nf3,d6,Nxd4,Nf6,Bd3,Nc6,Nxc6,bxc6,O-O,g6,f4,Bg7,f5,O-O,Bg5,a5,Nc3,Ba6,Kh1,Bxd3,cxd3,Qb6,Rb1,Rab8,h3,c5,b3,Nh5,Nd5,Qa6,g4,Ng3+,Kg2,Nxf1,Qxf1,e6,Ne7+,Kh8,f6,h6,fxg7+,Kxg7,Qf6+,Kh7,h4,Qxd3,Rf1,Qxe4+,Kg3,Rb4', 'Qxf7+,Rxf7,Rxf7+,Kh8,Bf6#', 'https://lichess.org/training/cgnaJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgoc6', 'Blitz', 'Gengey', 1640, 'IndrekT66', 1629, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Qd2,a6,Qc2,dxc4,Bxc4,b5,Bd3,g6,Nf3,Nbd7,O-O,Bb7,Rac1,Bxf3,gxf3,Nh5,Bxe7,Qxe7,Ne4,Rac8,b3,Nhf6,Nxf6+,Qxf6,Be4,Qg5+,Kh1,Nf6,Rg1,Qh5,Bb7,Rb8,Qxc7,Qh4,Bxa6,Qxf2,Qf4,Nh5,Qe4,f5,Qxe6+,Kh8,Qe5+,Kg8,Bxb5,Qxf3+,Rg2,Rbe8,Bc4+,Rf7,Bxf7+,Kxf7,Qc7+,Kf8,Qd6+,Kf7,Rc7+,Kg8,Qc6', 'Qf1+,Rg1,Ng3+,hxg3,Qh3#', 'https://lichess.org/training/cgoc6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgOCE', 'Rapid', 'Praveen165', 1892, 'DonkeypunchResin', 1871, 'd4,e5,dxe5,d6,Nf3,Nc6,e4,Bg4,exd6,Bxd6,Bb5,Qe7,O-O,O-O-O,Bxc6,Bxh2+,Kxh2,Rxd1,Rxd1,bxc6,Nc3,Nf6,Bg5,Bxf3,gxf3,h5,Re1,Ng4+,fxg4,hxg4+,Kg2,Qxg5,Rad1,Qh4', 'Rh1,Qe7,Rxh8+', 'https://lichess.org/training/cgOCE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGQb7', 'Blitz', 'anasayan', 2028, 'oghoroe', 2028, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,Bb4,Bd3,Nf6,O-O,Bxc3,bxc3,O-O,Bg5,h6,Bh4,b6,Qe2,Bb7,Ne5,g5,Bg3,Qd5,f3,Nc6,Rfd1,Nxe5,dxe5,Qc5+,Bf2,Qxc3,exf6,Qxf6,Be4,Bxe4,Qxe4,Rad8,Rab1,c5,h4,Qc3,hxg5,hxg5,Qe3,Qxc2,Qxg5+,Kh7,Rdc1,Qd3,Be3,Rh8,Rb3,Qd6,Qh5+,Kg7,Qg5+,Kf8,Bf4,Qd4+,Be3,Qd6,Kf2,Rg8,Qh6+,Ke8,Rc2,Qg3+,Kf1', 'Rd1+,Ke2,Qe1#', 'https://lichess.org/training/CGQb7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgQXa', 'Rapid', 'abcpowerjuan', 1848, 'adondevamos', 1957, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,c3,Bc5,Nxc6,bxc6,Bf4,Nf6,Bd3,d6,h3,Qe7,Qe2,O-O,O-O,Rb8,a4,Nd7,b4,Qf6,Bg3,Bxb4,e5,Nxe5,cxb4', 'Nxd3,Qxd3,Qxa1', 'https://lichess.org/training/cgQXa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CgrGK', 'Classical', 'AndreaCica', 1783, 'DgknY', 1725, 'd4,c5,Nf3,cxd4,Nxd4,e5,Nf3,d5,Nxe5,Nf6,Bg5,Nc6,Nxc6,bxc6,e3,Be7,Be2,Qb6,b3,h6,Bh4', 'Qb4+,Nd2,Qxh4', 'https://lichess.org/training/CgrGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGsGf', 'Rapid', 'PieceOfCheckmate', 1674, 'wolf80', 1868, 'Nf3,Nc6,d4,d5,g3,Bg4,Bg2,Bxf3,Bxf3,e5,dxe5,Nxe5,Bg2,c6,O-O,Bc5,c4,Nxc4,Nd2,Nxd2,Bxd2,Nf6,Qb3,Bb6,a4,Rb8,Qc3,O-O,Bf4,Rc8,Rfd1,Qe7,e3,h6,a5,Bc7,Bxc7,Rxc7,b4,Ne4,Bxe4,Qxe4,Rd4,Qe5,f4,Qe6,Rf1,Re8,Rf3,a6,f5,Qe5,Qc5,f6,Kg2,Rce7,Kh3,Qc7,Rff4,Rxe3,Rh4,R8e5,Rdg4,Kh7,Qf8,Qe7', 'Rxh6+,gxh6,Qg8#', 'https://lichess.org/training/CGsGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CgSve', 'Rapid', 'fedematto2020', 1830, 'MrEcom', 1869, 'd4,d6,c4,Nf6,Nc3,Nc6,e4,e5,d5,Ne7,Bg5,Ng6,Nf3,Be7,Bxf6,Bxf6,Be2,Nf4,O-O,h5,Qd2,g5,g3,Nh3+,Kg2,h4,Ng1,g4,Nxh3,gxh3+,Kh1,Bg5,f4,Bh6,g4,Bxf4,Rxf4,Qg5,Raf1,exf4,Rxf4,Bd7,b4,c5,bxc5,dxc5,e5,Qxe5', 'Re4,Qxe4+,Nxe4', 'https://lichess.org/training/CgSve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cGUcN', 'Rapid', 'chessplayeromg50', 2006, 'lord_quacky', 1998, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Nf6,Bf4,Nc6,Nb5,Qa5+,Nc3,Bf5,Nf3,e6,a3,a6,b4,Qd8,e3,Bd6,Bg3,b5,Rc1,Rc8,Nh4,Be4,f3,Bg6,Nxg6,hxg6,Bxd6,Qxd6,f4,Nxb4,axb4', 'Qxb4,Bd3,Rxc3', 'https://lichess.org/training/cGUcN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgVfJ', 'Rapid', 'Ezequielx', 1759, 'user68603', 1749, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,Nc3,axb5,e4,b4,e5,bxc3,exf6,exf6,bxc3,d6,Bc4,Be7,Ne2,O-O,O-O,Nd7,Bf4,Ne5,Bxe5,fxe5,Bb3,Bf6,Rc1,Bg5,f4,exf4,Nxf4,Ba6,c4,Bc8,Qd2,Re8,Bc2,Kh8,Qd3,g6,Qc3+,Kg8,Qf3,Rxa2,Ne6,fxe6,Qf7+,Kh8,Bxg6,hxg6,Qxg6,Rg8', 'Qh5+,Kg7,Rf7#', 'https://lichess.org/training/cgVfJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGxH2', 'Rapid', 'Ageold', 1848, 'PAC3', 1831, 'd4,Nf6,Bf4,g6,Nf3,Bg7,e3,O-O,Bd3,d5,h3,Nbd7,O-O,c5,c3,b5,Bxb5,a6,Bxd7,Bxd7,dxc5,Bb5,Re1,Ne4,Nd4,e5,Nxb5,axb5,Bh2,Qh4,Rf1,Rad8,Nd2,f5,Nxe4,dxe4,Qe2,f4,exf4,exf4,Qxe4,Qf6,Rad1,f3,Rxd8,Qxd8,gxf3,Qg5+,Bg3,Qxc5,Rd1,Kh8,Qg4,Qc6,f4,Re8,Qd7', 'Re1+,Rxe1,Qxd7', 'https://lichess.org/training/CGxH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgySk', 'Rapid', 'adequate-bishop', 1855, 'jihhaahuuuk', 1879, 'd4,d5,Nf3,Nf6,c4,e6,Nc3,Be7,Bf4,O-O,e3,Nbd7,Bd3,c5,cxd5,exd5,dxc5,Nxc5,Bc2,Qb6,Nxd5,Nxd5,Qxd5,Qxb2,Qd1,Rd8,Qc1,Qc3+,Nd2,Rxd2', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/cgySk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CgZ6s', 'Classical', 'FadiBagash-_-27', 1905, 'Caractacus', 1930, 'e4,c5,Nc3,Nc6,g3,e5,Bg2,d6,d3,f5,f4,Nf6,Nf3,Be7,O-O,O-O,fxe5,dxe5,exf5,Bxf5,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/CgZ6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cgZ8d', 'Bullet', 'Perclimy', 1634, 'sidroh', 1915, 'd4,d5,Bf4,Nf6,e3,Bg4,f3,Bh5,Bd3,e6,a3,Bd6,Bg3,O-O,c4,dxc4,Bxc4,Nbd7,Nc3,Nb6,Ba2,c6,Rc1,Nbd5,Nxd5,Nxd5,Kf2,Bg6,Bb1,Be7,Ne2,Bf6,Qd2,a5,b3,Qb6,Bc2,Be7,Ra1,Nc7,e4,Nb5,a4,Bb4,Qd3,Nd6,Bxd6,Bxd6,Qc4,Qb4,Qxb4,Bxb4,Bd3,Rfd8,Rac1,Be7,Rc2,Bf6,Ke3,e5,dxe5,Bxe5,Bc4,Rd7,f4,Bc7,h3,Kf8,g4,f6,Be6,Rd6,f5,Bf7,Nf4,Rad8,Rc3,Rd2,Rd3,Bxf4+,Kxf4,R2xd3,Rc1,Bxe6,fxe6,Ke7,Kf5,Rxh3,e5,fxe5,g5,Rxb3,Rh1,h6,gxh6,gxh6,Rxh6,Rf3+,Ke4,Rf4+,Kxe5,Rxa4,Rh7+,Ke8,Rh8+,Ke7,Rh7+,Ke8,Kf6,Rf4+,Ke5,Rg4,Rh8+,Ke7,Rh7+,Ke8,Rxb7,Rg5+,Kf6,Rgd5,Rh7,Rg5', 'Rh8+,Rg8,Rxg8#', 'https://lichess.org/training/cgZ8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGZjM', 'Rapid', 'dixie7', 1662, 'Ghost79', 1797, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Bc4,Nc6,a3,a6,Nf3,b5,Bd3,Bb7,O-O,Nf6,e5,Ng4,h3,Ngxe5,Nxe5,Nxe5,Be4,d5,Bf3,Nxf3+,Qxf3,Qc7,Bf4,e5,Nxd5,Bxd5,Qxd5,Rd8,Bxe5,Rxd5,Bxc7,Kd7,Bg3,b4,a4,b3,Rac1,Rd2,Rc7+,Ke6,Re1+,Kf5,Re5+,Kg6,h4,f6', 'h5+,Kh6,Bf4+', 'https://lichess.org/training/CGZjM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CGzQa', 'Rapid', 'tgb00', 2031, 'Spadille', 2030, 'e4,e5,f4,d5,Nf3,dxe4,Nxe5,Nd7,d4,exd3,Qxd3,Nxe5,Qxd8+,Kxd8,fxe5,Be6,Be3,Ne7,Nc3,Ng6,O-O-O+,Ke8,Nd5,Rc8,Bg5,c6', 'Nc7+,Rxc7,Rd8#', 'https://lichess.org/training/CGzQa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cGZs9', 'Classical', 'wicketz', 1677, 'jnet', 1690, 'e4,d6,d4,e6,Nf3,Bd7,Nc3,h6,Bc4,Nc6,Bf4,Qe7,O-O,g5,Bg3,O-O-O,a3,h5,h3,g4,Bh4,f6,Nh2,gxh3,g3,Qg7,d5,exd5,Nxd5,Ne5,Bb3,Bb5,c4,Bxc4,Bxc4,Nxc4,Qc2,Ne5,Rac1,Rh7,Qa4,Kb8,Rxc7,Qxc7,Nxc7,Rxc7,f4,Nc4,Rf2,Nb6,Qb3,d5,Rc2,Rxc2,Qxc2,dxe4,Qxe4,Rd1+,Kf2,Rd2+,Ke1,Rd8,Nf3,Be7,Nd4,Rc8,Nf5,h2,Kd1,Rd8+,Kc1,Bc5,Qh1,Bg1,g4,hxg4,Bg3,Rc8+,Kb1,Nc4,Bxh2,Nd2+,Ka2,Bb6,Qg2,Nf3,Bg3,Rc5,Nd6,f5,Qe2,Nf6,Qe6,Bd8,Nf7,Rc6,Qe3,Bb6,Qe7,a6,Qf8+,Rc8', 'Qd6+,Ka7,Qxf6', 'https://lichess.org/training/cGZs9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ch04z', 'Rapid', 'Lpetrov', 1918, 'Vitaliy91', 1807, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,e6,Bd3,Bxd3,Qxd3,Nf6,Bf4,c5,O-O-O,Nc6,Qb5,Qb6,Qxb6,axb6,Kb1,Nd5,Be3,Bd6,c4', 'Nxe3,fxe3,Bxg3', 'https://lichess.org/training/ch04z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ch0I3', 'Rapid', 'andrey2345', 1933, 'thatsokbro', 1924, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bb5+,Nc6,Nxc6,bxc6,Bxc6+,Bd7,Bxa8,Qxa8,f3,Bg7,O-O,e6,Be3,d5,Re1,O-O,e5,Ne8,Bc5,Qb8,Bxf8,Bxf8,b3,Qc7,Na4,Bxa4,bxa4,Bb4,Re2,Bc3,Rb1,Bxe5,Qe1,Bxh2+,Kf1,Nf6,Qb4,Nh5,Qb8+', 'Qxb8,Rxb8+,Bxb8', 'https://lichess.org/training/Ch0I3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ch0m0', 'Blitz', 'IM licg', 2512, 'Hadiii_a', 2410, 'e4,c5,Nc3,d6,d4,cxd4,Qxd4,Nd7,b3,Ngf6,Bb2,e6,f3,a6,g4,Be7,O-O-O,Qc7,h4,Qc5,Qxc5,Nxc5,g5,Nh5,Nce2,O-O,Bh3,g6,Bg4,Ng7,Bf6,Bxf6,gxf6,Ne8,Bh3,b5,h5,Bb7,Nf4,Rd8,e5,Rd7,hxg6,hxg6,exd6,Nxf6,b4,Na4,Nxe6,fxe6,Bxe6+,Rff7,Bxd7,Rxd7,Rh3,Nc3,Rd3,Ncd5,Rg3,Kg7,a3,Rxd6,Ne2,Re6,Nc3,Nxc3,Rxc3,Re7,Rc5,Rf7,Rcg5,Kf8,Rxg6,Ke7,Rh6,Nd5,Rh5,Nb6,Re5+,Kd7,Re3,Nc4,Rd3+,Kc7,Rg6,Rh7,Rg1,Rf7,Rf1,Bc6,f4,Bd7,f5,Rxf5', 'Rxd7+,Kxd7,Rxf5', 'https://lichess.org/training/ch0m0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ch0ZJ', 'Rapid', 'jezevec', 1715, 'MaxsimK', 1767, 'e4,e5,Bc4,Nf6,d3,h6,Nc3,d6,h3,Be7,Nf3,O-O,O-O,Nc6,a3,a6,Be3,Be6,Ba2,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,Re1,Bf6,Rb1,Rad8,Nh2,Be7,Ng4,f5,Nh2,g6,Bxh6,Rf7,Qf3,Qd6,Qg3,Nd4,Qxe5,Qxe5,Rxe5,Bd6,Rd5', 'Bxh2+,Kxh2,Rxd5', 'https://lichess.org/training/ch0ZJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CH1Wq', 'Bullet', 'ricardus33', 1938, 'ecefbieadac', 1943, 'd4,d5,Nf3,c6,Bf4,Bf5,e3,e6,Nbd2,Nf6,Be2,h6,O-O,Bd6,Bxd6,Qxd6,Ne5,Nbd7,f4,Ne4,g4,Bh7,Bd3,Nxd2,Qxd2,Bxd3,Qxd3,Nxe5,fxe5,Qe7,Rf2,h5,gxh5,Rxh5,Raf1,O-O-O,Rxf7,Qg5+,Kh1', 'Rxh2+,Kxh2,Rh8+,Qh7,Rxh7#', 'https://lichess.org/training/CH1Wq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CH626', 'Rapid', 'UMLIG_KSA9', 1890, 'drsushil', 1895, 'e4,c5,c3,e6,d4,cxd4,cxd4,d6,Nf3,Bd7,Qb3,Qc7,Nc3,Nc6,Nb5,Qb6,Bd3,a6', 'Nxd6+,Bxd6,Qxb6', 'https://lichess.org/training/CH626');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ch6AG', 'Blitz', 'Penguin2991', 1586, 'ski200k', 1619, 'd4,g6,c4,Bg7,Nc3,e6,e4,Ne7,Nf3,d5,cxd5,exd5,exd5,Nxd5,Bg5,f6,Qe2+,Kf7,Bh4,Nxc3,Qc4+,Nd5,O-O-O,Be6,Qb3,g5,Bg3,Nf4,Bc4,Nd5,Qxb7,Nb6,Bxe6+,Kxe6,a4,Qd7,d5+,Kf7,a5,Qc8,Qxa8,Nxa8,Kb1,Qb7,d6,f5,Rd2,cxd6,Bxd6,h6,Be5,Re8,Bxg7,Qe4+,Ka2,Kxg7,Re1,Qa4+,Kb1,Rxe1+,Nxe1,Qe4+,Nc2,Nc6,Rd7+,Kg6,Rd6+,Kh5,f3,Qc4,Ne3,Qc5', 'g4+,fxg4,fxg4+,Kh4,Rxh6#', 'https://lichess.org/training/ch6AG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CH7ee', 'Rapid', 'EnriqueAvenda', 1835, 'O-Saft', 1926, 'e4,e5,Nf3,d6,Nc3,Be7,Bc4,Bf6,Nd5,Be6,Nxf6+,Qxf6,Bb3,Ne7,d3,h6,h3,Nbc6,c3,a6,d4,exd4,cxd4,Ng6,d5,Nce5,dxe6,fxe6,Nxe5,Nxe5,f4,Nc6,O-O,O-O-O,Rb1,Rdf8,Bd2,Qd4+,Kh2,Qxe4,Qf3,Qxf3,Rxf3,Nd4,Rg3,Nxb3,axb3,Rhg8,Re1,Re8,Bc3,g6,h4,h5,Bf6,Kd7,Rg5,Ref8,Bc3,Rxf4,Kg3,Rf5,Re3,Rb5,b4,e5,Kf2,Ke6,Re4,Rf8+,Ke2,Rf6,g4,hxg4,Rgxg4,Kf7,Rg5,Rd5,Reg4,Rb5,h5,gxh5,Rxh5,c6,Rh7+,Ke6,Rgh4,Kd5,Rd7,Rg6,Rh2,c5,Rf2,cxb4,Bd2,Kc6,Rdf7,d5,R2f6+,Rxf6,Rxf6+,Kc5,Rf5,e4,b3,Rb6', 'Be3+,Kb5,Bxb6', 'https://lichess.org/training/CH7ee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ch87Q', 'Rapid', 'javigallen', 1751, 'behroooz', 1685, 'e4,d5,e5,c6,d4,Qd7,h3,Qf5,Bd3,Qd7,Nf3,h6,Be3,Na6,a3,Qc7,Nc3,Qb6,Na4,Qa5+,Nc3,Qd8,Bxa6,bxa6,Qd2,e6,O-O,Be7,Rab1,g5,Ne2,f6,Nh2,f5,f4,g4,hxg4,fxg4,Nxg4,h5,Nh2,Nh6,Rf3,h4,Qd3,Nf5,Rbf1,Kd7,Bd2,Qe8,Ng4,Qg6,Ne3,Rg8,R1f2,Rb8,b4,Bb7,Nxf5,exf5,Nc1,Rh8,Nb3,Rbg8,Kh1,h3,Rxh3,Bh4,Nc5+,Kc8,Qf3,Bxf2,Qxf2,Qg4,Rxh8,Rxh8+,Kg1,Qh5,Kf1', 'Qd1+,Qe1,Rh1+,Kf2,Rxe1', 'https://lichess.org/training/ch87Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ch8m8', 'Blitz', 'Aymen0428', 1760, 'mk_1984', 1751, 'e4,e5,Nf3,Nc6,Bb5,Bc5,d3,Nf6,h3,O-O,O-O,d5,exd5,Qxd5,Re1,e4,dxe4,Qxd1,Rxd1,Nxe4,Rf1,Nd4,Nxd4,Bxd4,c3,Bb6,Bf4,c6,Bd3,Bf5,Nd2,Nxf2,Bxf5,Nxh3+,Kh2,Nxf4,Rxf4,g6,Bc2,Rfd8,Nc4,Bc5,Raf1,b5,Ne5,Bd6,Nxc6,Bxf4+,Rxf4,Rd2,Bb3,Rxb2,Bxf7+,Kg7,Bb3,a5,Rf7+,Kh6,Nd4,a4,Bd5,b4,Bxa8,b3,axb3,axb3,Nxb3,Rxb3,Rc7,Ra3,Bf3,Ra2,c4,Rc2,c5,Rc1,c6,Kg5,Rc8,h6,c7,Kh4,Bb7,g5,Rh8,Rxc7,Rxh6+,Kg4,Rb6,Kf5,Bf3,g4,Rb5+,Kf4,Ba8', 'g3+,Kh3,Rh7+,Rh5,Rxh5#', 'https://lichess.org/training/Ch8m8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cH9VN', 'Rapid', 'kojiro963', 1730, 'craus', 1704, 'e4,e5,Bc4,Bc5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Nf6,d3,h6,Qe2,Qe7,Nc3,Be6,Bd2,O-O,g4,Nd7,Rg1,d5,h4,dxe4,dxe4,Rad8,g5,hxg5,Rxg5,f5,h5,fxe4,Qxe4,Bd5,Nxd5,cxd5,Qxd5+,Kh8,h6,gxh6,Rh5,Nf6,Rxh6+,Kg7,Qxe5,Qxe5+,Nxe5,Rxd2', 'Rg6+,Kh7,Kxd2', 'https://lichess.org/training/cH9VN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CHA0Z', 'Rapid', 'Milsosa', 1923, 'one_lucky_player', 2054, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,O-O,O-O,Re8,Bg5,d5,exd5,Bxc3,bxc3,cxd5,Rb1,h6,Be3,Qd6,h3,Be6,Qf3,c5,Rb7,c4,Bf4,Qc6,Rc7,Qb6,Be2,Ne4,Bxc4,Nd2,Bxd2,Qxc7,Bxd5,Bxd5,Qxd5,Rad8,Qb5,a6,Qa4,Re2,Be3,Qxc3,Qg4,Rxe3,fxe3,Qxe3+,Kh1,Qc3,Qf5,Qc7,Re1,Qc4,Qa5,Rc8,Qf5,Qxc2', 'Re8+,Rxe8,Qxc2', 'https://lichess.org/training/CHA0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Chakg', 'Rapid', 'sajadmirzaei85', 1787, 'Bobyfisher66', 1807, 'e4,e5,Nf3,Nc6,Bb5,Qf6,Nc3,Nge7,O-O,a6,Ba4,b5,Bb3,d6,Nd5,Nxd5,Bxd5,Bd7,c3,Rb8,d4,exd4,Bxc6,Bxc6,Qxd4,Qxd4,Nxd4,Bxe4', 'Re1,d5,f3', 'https://lichess.org/training/Chakg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('chbCK', 'Blitz', 'SilentTremour', 2562, 'alesig71', 2567, 'c4,e5,Nc3,Bb4,Nd5,Be7,Nf3,e4,Nd4,Nc6,Nxc6,dxc6,Nxe7,Qxe7,d3,Bf5,dxe4,Bxe4,f3,Bxf3,Qd4,Be4,Qxg7,O-O-O,Bd2,Rxd2,Kxd2,Qd8+,Ke1,Ne7,Rd1,Qe8,Qe5,f5,e3,Rg8,Kf2,Qf7,Rg1,Ng6,Qd4,b6,g3,Re8,Bg2,Ne5,h3,c5,Qc3,h5,Rd5,Bxd5,Bxd5,Qf6,Kg2,h4,Rf1,Qg5,e4,fxe4,g4,Nxg4,hxg4,Qxg4+,Kh2,e3,Rf3,e2,Qe1,Rg8,Rf2,Qg3+,Kh1,Qh3+,Rh2', 'Qf1+,Qxf1,exf1=Q#', 'https://lichess.org/training/chbCK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('chBI2', 'Rapid', 'hills', 1760, 'Molata', 1789, 'f4,e6,Nf3,d5,e3,c5,b3,Nc6,Bb2,Nf6,Bb5,Be7,O-O,O-O,Qe1,a6,Bxc6,bxc6,Qg3,a5,Ne5,Qc7,Ng4,Ne4', 'Nh6+,Kh8,Qxg7#', 'https://lichess.org/training/chBI2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('chCGs', 'Rapid', 'goga-magoga', 2228, 'oknetwork', 2008, 'e4,c5,Nc3,d6,f4,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,Qc7,b3,e6,Bb2,Be7,e5,Nd5,Ne4,O-O,c4,Nb6,exd6,Bxd6,Nf6+,Kh8,Qh5,h6,Ne8,Rfxe8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/chCGs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChDE9', 'Blitz', 'zdenkec50', 2254, 'sapsan2321', 2125, 'e4,c6,f4,d5,Nf3,dxe4,Ne5,Nf6,d4,e6,Be2,Nbd7,O-O,Qb6,Kh1,Bd6,Nc4,Qc7,Nxd6+,Qxd6,c4,b6,Be3,O-O,Nc3,Bb7,g4,Rfd8,g5,Ne8,Nxe4,Qe7,c5,bxc5,dxc5,Nxc5', 'Bxc5,Rxd1,Bxe7,Rxa1,Rxa1', 'https://lichess.org/training/ChDE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChDgC', 'Rapid', 'pupkin67', 1915, 'Petra_Nita', 2151, 'e4,Nc6,Nf3,e5,Bb5,Bc5,O-O,Nge7,c3,O-O,d4,exd4,cxd4,Bb6,Nc3,d5,e5,Bg4,Bg5,Bxf3,Qxf3,Nxd4,Qg4,Nxb5,Bf6,Ng6,Bxd8,Nxc3,bxc3,Raxd8,e6,fxe6,Qxe6+,Kh8,Rad1,c6,Qh3,Nf4,Qg4,Rde8,Rde1,Rxe1,Rxe1,Nd3,Re7,Bxf2+,Kh1,Bd4,Qxd4', 'Rf1+,Qg1,Nf2#', 'https://lichess.org/training/ChDgC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cHdUx', 'Rapid', 'KliiKeeR', 1792, 'GladstoneWanderer', 1687, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,Bf4,O-O,e3,Re8,h3,Nbd7,Be2,e5,Bh2,e4,Nd2,h5,O-O,Nf8,b4,N8h7,c5,dxc5,bxc5,c6,a4,Be6,a5,Qc8,Nc4,Bxh3,Nd6,Qe6,Nxe8,Rxe8,gxh3,Qxh3,Rb1,Qf5,Rxb7,Qg5+,Kh1,Ng4,Bxg4,hxg4,Qb3,Rf8,Nxe4,Qh4,Ng3,Nf6,Rxa7,Qh3,Rc7,Ne4,Rxc6', 'Nxg3+,fxg3,Qxf1+', 'https://lichess.org/training/cHdUx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CHecb', 'Blitz', 'Fckngtraitor', 1796, 'architect77', 1768, 'e4,e5,Bc4,d6,d4,exd4,Nf3,Nc6,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,O-O,O-O,Nc3,h6,Bxf6,Bxf6,Qe3,Be6,Nd5,Bxd5,exd5,Re8,Qf3,b6,Bb5,Re5,Bc6,Rb8,Rfe1,Rxe1+,Rxe1,Qf8,Qa3,a5,Qe3,Bxb2,Qe7,Qc8,Qe4,Bf6,Qf3,Qa6,a4,Qc4,Qe2,Qd4,c4,Be5,Qe4,Qd2,g3,Qg5', 'f4,Bxf4,Qxf4,Qxf4,gxf4', 'https://lichess.org/training/CHecb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CHEfo', 'Blitz', 'PuroNorteCarnale', 2216, 'Ahmadismail', 2258, 'e4,d5,d4,dxe4,Nc3,Nf6,f3,Bf5,fxe4,Nxe4,Nxe4,Bxe4,Nf3,Nc6,Bc4,e6,O-O,Bxf3,Qxf3,Qxd4+,Be3,Qxc4,Qxf7+,Kd8,Bg5+,Kc8', 'Qe8+,Nd8,Qxd8#', 'https://lichess.org/training/CHEfo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CHFp1', 'Rapid', 'ChingizD4', 1975, 'simul66', 1973, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be3,Bg4,Be2,e5,d5,c6,h3,Bxf3,Bxf3,Nbd7,O-O,Nc5,Qd2,cxd5,cxd5,Rc8,Rac1,Qa5,a3,Nb3,Qc2,Nxc1,Rxc1,Nd7,Qd2,f5,exf5,gxf5,Bh6,Rf7,Qg5,Nf6', 'Bxg7,Rxg7,Qxf6', 'https://lichess.org/training/CHFp1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CHHQw', 'Rapid', 'indra97', 1962, 'T-Widya', 1990, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,f3,e6,Be3,Bb4+,c3,Be7,Ne2,Bxe4,fxe4,Bh4+,g3,Be7,Qd2,Nf6,Bg2,O-O,O-O,Nbd7,Rad1,Nb6,Qd3,Ng4,Bf4,Qe8,c4,Rd8,h3,Nf6,e5,Nfd7,Qc2,f5,exf6,Bxf6,Be4,Qh5,Rf2,e5,Be3,exd4,Bxd4,Ne5,Kg2,Nbxc4,Qb3,Kh8,Nf4,Qe8,Bxe5,Nxe5,Rxd8,Qxd8', 'Ne6,Qe8,Nxf8', 'https://lichess.org/training/CHHQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChHVl', 'Classical', 'smashfuhrer', 1857, 'Vasquo2', 1965, 'd4,Nf6,Nf3,d5,c4,e6,Bg5,Be7,e3,c6,Nc3,h6,Bh4,O-O,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,Rc1,Nbd7,O-O,Rc8,Qe2,a6,Rfd1,Nd5,Bxe7,Qxe7,a3,c5,Ne4,cxd4,Nxd4,Ne5,Bb1,Qh4,Nd6,Ng4,h3,Rxc1,Rxc1,Ngxe3,Nxb7,Nxg2,Qd3,Nf6,Kxg2', 'Qg5+,Qg3,Qxc1', 'https://lichess.org/training/ChHVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('chI0w', 'Rapid', 'radikulit', 1769, 'defensorov', 1853, 'e4,d6,Qf3,Nf6,Bc4,Bg4,Qb3,e6,Qxb7,Nbd7,f3,Bh5,g4,Bg6,h4,Nc5,Qb5+,Nfd7,h5,Rb8,Qa5,Bxe4,fxe4,Nxe4,d3,Nec5,Nd2,Be7,Ndf3,O-O,h6,g6,Qc3,Bf6,d4,Ne4,Qe3,d5,Bd3,Nd6,g5,Bh8,Nh3,Nf5,Bxf5,exf5,Nf4', 'Re8,Qxe8+,Qxe8+', 'https://lichess.org/training/chI0w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CHinb', 'Rapid', 'handsomechuck', 1951, 'rezababaaziz', 1867, 'c4,Nf6,g3,c6,Bg2,Qc7,d3,e6,Nf3,d5,Bf4,Bd6,Bxd6,Qxd6,Nbd2,O-O,O-O,e5,e4,d4,a3,c5,Qc2,Nc6,Rfb1,a5,b3,h6,b4,axb4,axb4,Rxa1,Rxa1,Nxb4,Qb3,Bd7,Ra5,Bc6,Ne1,Qc7,Ra1,Nd7,Nc2,Nxc2,Qxc2,f6,Nb3,b6,Qa2,Ra8,Qb2,Rxa1+,Qxa1,Qb7,Bh3,Nf8,f4,Qa8,Qxa8,Bxa8,Nd2,Kf7,f5,g5,Nb1,Bc6,Na3,Ba4,Bg4,Nd7,Bh5+,Ke7,Kf2,Nb8,h4,Nc6,hxg5,hxg5,Be2,Nb4,Ke1,Nc2+,Nxc2,Bxc2,Kd2,Ba4,Ke1,b5,cxb5,Bxb5,Kd2,Ba4,Bh5,Kd6,Bf7,Kc6', 'Be8+,Kb6,Bxa4', 'https://lichess.org/training/CHinb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('chiR6', 'Blitz', 'is-da', 1944, 'kaylay', 2119, 'e4,c6,d4,d5,e5,Bf5,h4,h6,g4,Bd7,Nh3,e6,g5,hxg5,Nxg5,Be7,Qg4,Nh6,Qf3,c5,Bd3,cxd4,Nxf7,Nxf7,Bg6,Rf8,Bg5,Bxg5,hxg5,Qxg5,Bxf7+,Rxf7', 'Rh8+,Ke7,Qa3#', 'https://lichess.org/training/chiR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChkSJ', 'Rapid', 'Aiso', 1842, 'AWelker', 1729, 'e4,c6,Bc4,d5,Bb3,dxe4,Qh5,g6,Qh4,Nf6,Nc3,Bf5,f3,exf3,Nxf3,Bg7,O-O,Nbd7,d4,O-O,Bh6,Qc7,Bxg7,Kxg7,h3,Rfe8,Ng5,Rf8,Rxf5,gxf5,Bxf7,Rxf7', 'Ne6+,Kh8,Nxc7', 'https://lichess.org/training/ChkSJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cHKYz', 'Classical', 'Mohamed1527', 1617, 'anatolii59', 1638, 'e4,e5,Nf3,Qf6,Nc3,Bc5,Nd5,Qd6,Bc4,h6,O-O,c6,Nc3,Nf6,Re1,O-O,Nh4,Qd4,Qf3,Qxc4,d3,Qe6,Nf5,Nh7,Bxh6,gxh6,Qg4+,Ng5,h4,Qg6,hxg5,Qxg5', 'Nxh6+,Kh7,Qxg5', 'https://lichess.org/training/cHKYz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cHmaP', 'Blitz', 'Pirata68', 1702, 'crammbb', 2076, 'd4,Nf6,Bg5,d6,e3,Nbd7,Nf3,g6,Be2,Bg7,c3,O-O,O-O,h6,Bh4,g5,Bg3,Re8,h3,Nf8,Nh2,Ng6,Ng4,Ne4,Nd2,Nxg3,fxg3,Rf8,Bf3,c6,Nh2,Qc7,g4,d5,e4,Be6,e5,Nf4,Re1,Nd3,Re3,Nxb2,Qc2,Nc4,Nxc4,dxc4,Rb1,b5,Bd1,Bd5,Nf3,f5,gxf5,a6,g4,c5,h4,Qc6,hxg5,hxg5,Nxg5,Bh6,Bf3', 'Bxg5,Bxd5+,Qxd5,Rh3,cxd4', 'https://lichess.org/training/cHmaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cHmvJ', 'Rapid', 'Pailai', 1683, 'Paranovsk', 1724, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,d6,d5,Ne7,Be3,Ng6,Be2,Bd7,Nbd2,Be7,c4,O-O,c5,a6,cxd6,cxd6,Rc1,Qa5,Qb3,Nxe4,Qxb7,Nxd2,Nxd2,Bb5,Bxb5,axb5,O-O,Nf4,Bxf4,exf4,Qxe7,Qxd2,Qxd6,f3,g3,Qxb2,Rb1,Qxa2,Rxb5,Qe2,Rb7', 'Qxf1+,Kxf1,Ra1+,Rb1,Rxb1#', 'https://lichess.org/training/cHmvJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cHmWd', 'Rapid', 'Serge51', 2208, 'Zakharkin_Zakhar', 2252, 'd4,d5,c4,c6,e3,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,Nf6,Bd2,Nbd7,f4,Bd6,c5,Bc7,b4,O-O,Nf3,h6,O-O,Nh7,a4,f6,b5,e5,bxc6,bxc6,Qg6,exf4,exf4,Qe8,Qd3,a5,Rfe1,Qf7,Rab1,Rfb8,g3,Rxb1,Rxb1,Rb8,Qa6,Qe6,Rxb8+,Nxb8,Qb7,Qe7,Kf2,Nf8,Ne2,Qd8,Neg1,Ng6,Ne2,Ne7,Nc1,Qc8,Qxc8+,Nxc8,Nb3,Kf7,Nxa5,Bxa5,Bxa5,Ke7,Ke3,Na6,Nh4,Ke6,Ng6,Kf5,Nf8,Kg4,Kf2,Kh3,Kg1,h5,Ng6,Kg4,Kg2,Kf5,Nf8,Ke4,Ne6,g6,Kf2,Kd3,Kf3,Kc4,Ke3,Kb3,Bd8,Kxa4,Bxf6,Nb4,Nf8,Nc2+,Kd2,Nb4,Nxg6,Kb3,Ne5,Ka4,h3,Kb5,g4,hxg4,hxg4,Na6,g5,Nc7,g6,Ne8,Bh8,Ne7,g7,Nf6,Kd3,Nf5,Ng4,Ng8,Ne3,Nfe7,f5,Kb4,Nc2+,Kb3,Ne3,Kb2,Nd1+,Kb3,Ne3,Kb4,Ke2,Kc3,Kf3,Kxd4,Kf4,Kxc5,Ke5,d4,Nd1,Kc4', 'f6,Nxf6,Kxf6,Ng8+,Kf7', 'https://lichess.org/training/cHmWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('chN4P', 'Blitz', 'afshin65', 2197, 'cmx', 2301, 'd4,Nf6,Nf3,c5,c3,d5,e3,Nbd7,Bd3,Qc7,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,Nd2,Bd6,Nf3,Qh5,Be2,O-O,h3,Bxh3,gxh3,Qxh3,Re1,Ng4,Bf1', 'Bh2+,Kh1,Nxf2#', 'https://lichess.org/training/chN4P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CHOAA', 'Rapid', 'Zhukovigor', 1753, 'Fsimao', 1757, 'e4,c5,Bc4,Nc6,Nf3,d6,O-O,Nf6,Nc3,Bg4,Re1,e6,h3,Bxf3,Qxf3,Ne5,Qe2,a6,a3,Be7,Ba2,O-O,f4,Ng6,Qf2,Nh5,f5,Bh4,Qf3,Ne5,Qxh5,Bxe1,fxe6,g6,exf7+,Nxf7,Qe2,Qh4,d3,Kg7,Nd5,Ne5,Ne3,Bf2+,Kh1,Bxe3,Bxe3,g5,d4,cxd4,Bxd4,Rf4,Qc4,Raf8,Qc7+,R8f7,Qxd6,Rf1+,Rxf1,Rxf1+,Bg1,Nf3,Qd7+,Kg6,Bf7+', 'Kh6,Qd6+,Kg7,gxf3,Qxh3+', 'https://lichess.org/training/CHOAA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChoGN', 'Rapid', 'Colorindex', 2012, 'squidgie', 2014, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Qd4,f6,Bc4,e6,e5,Bg7,Bf4,f5,Qd6,Ne7,Bg5,Bf8,Bf6,Rg8,f4,Bg7,Bh4,Kf7,Nd2,Re8,Nf3,h6,O-O-O,Qb6,Nd4,a5,h3,a4,g4,Rb8,b3,a3,gxf5,Qa5,Qxb8,Qc3,fxg6+,Nxg6,Nxe6,dxe6,Qc7+,Ne7,Bxe7,Qb2+,Kd2,Qd4+,Ke2,Qe4+,Kd2,Qxf4+,Kc3', 'Bxe5+,Kb4,Bxc7', 'https://lichess.org/training/ChoGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChPqa', 'Blitz', 'MORFIUSSS', 1676, 'Blosh', 1715, 'e4,c5,b4,cxb4,a3,bxa3,Nxa3,e6,f4,Nc6,Nf3,Bc5,d4,Bb6,Be2,d5,e5,Nge7,O-O,Nf5,Kh1,Nfxd4,c4,Nxe2,Qxe2,O-O,Nb5,Bc5,Ba3,Bxa3,Rxa3,Ne7,Nd6,b6,Ng5,h6,Rh3,dxc4,Nxc4,Nf5,Ne4,Ba6,Qa2,Bxc4,Qxc4,Rc8,Qe2,a5,Qg4,Re8,Nf6+,Kh8,Nxe8,Qxe8,Rb3,b5,Qe2,Nd4,Qb2,Nxb3,Qxb3,a4,Qb4,Rc4,Qd6,b4,h4,b3,f5,exf5,Rxf5,Rc1+,Kh2,Qa8,Rxf7,Qe4', 'Qf8+,Kh7,Qxg7#', 'https://lichess.org/training/ChPqa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('chpzM', 'Classical', 'Alexandr2017', 1782, 'President2033', 1775, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Nxc3,a6,Bc4,h6,Qd5,Qe7,e5,Nb4,Qd1,d6,O-O,Be6,Bxe6,Qxe6,exd6,Qxd6,Re1+,Be7,Qa4+,b5', 'Nxb5,axb5,Qxa8+', 'https://lichess.org/training/chpzM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChQGq', 'Rapid', 'Dogukan_Y', 1757, 'fhBgjd', 1796, 'e4,c5,Nf3,Nc6,Bb5,e6,O-O,Qc7,Nc3,d6,d4,a6,Bxc6+,Qxc6,d5,exd5,exd5,Qc7,Re1+,Be7,Bg5,f6,Bf4,Kf7,Bg3,Nh6,Nh4,Rd8,Qh5+,Kg8,Ne4', 'Bg4,Qxh6,gxh6', 'https://lichess.org/training/ChQGq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChqY4', 'Blitz', 'andromeda0924', 2264, 'Prelud_Rapsodievich', 2260, 'd4,Nf6,Bg5,Ne4,Bf4,d5,e3,e5,Bxe5,Nc6,Bf4,g5,Bg3,h5,Bd3,h4,Bxe4,hxg3,fxg3,dxe4,c4,Qd6,Ne2,Bg4,O-O,O-O-O,Nbc3,f5,Qa4,a6,Rf2,Nb4,c5,Qh6,Qxb4,Qxh2+,Kf1,Qh1+,Ng1,Rh2,Qc4,Be7,c6,Rdh8,cxb7+,Kb8,Qxa6', 'Qxg1+,Kxg1,Rh1#', 'https://lichess.org/training/ChqY4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Chr8y', 'Blitz', 'JRalte', 1912, 'miguel_mza', 1851, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,Bg5,Be7,Nc3,O-O,O-O,a6,a4,Be6,Rad1,Bxc4,Qxc4,Nd7,Bxe7,Qxe7,Rfe1,Ne5,Qb3,b6,f4,Ng6,Nd5,Qd8,e5,c6,Nxb6,Rb8,a5,d5,f5,Ne7,e6,Nxf5,Qh3,fxe6,Rxe6,Rxb6,axb6,Qxb6+,Kh1,Qf2,Rxc6,Ne3,Rg1', 'Qxg1+,Kxg1,Rf1#', 'https://lichess.org/training/Chr8y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('chrAG', 'Rapid', 'invictuspawn', 1939, 'amichai', 1909, 'd4,d5,c4,e6,cxd5,exd5,Nc3,c5,e3,Nc6,Nf3,Nf6,Bb5,cxd4,Qxd4,Bd7,Bxc6,bxc6,O-O,Bd6,b3,O-O,e4,dxe4,Nxe4,Nxe4,Qxe4,Re8,Qd4,Qf6,Qxf6,gxf6,Bb2,Be5,Nxe5,fxe5,Rad1,Rad8,Rfe1,f6,f4,exf4', 'Rxe8+,Rxe8,Rxd7', 'https://lichess.org/training/chrAG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('chsbB', 'Rapid', 'nclarksf', 1724, 'FlavioT90', 1698, 'e4,b6,Nf3,Bb7,Nc3,Nf6,d3,e6,h3,d5,e5,Nfd7,d4,c5,Bb5,a6,Bxd7+,Qxd7,O-O,Nc6,Be3,Be7,Na4,Qc7,dxc5,bxc5,Nxc5,Bxc5,Bxc5,Nxe5,Bd4,Nxf3+,Qxf3,O-O,Qg4,e5,Be3,Qxc2,Bh6,Qg6,Qxg6,fxg6,Bg5,Rf5,f4,exf4,Bxf4,Raf8,g3,a5,Rae1,h6,Re7,Ba6,Rfe1,g5,Bd6,Bb5,R7e5,Rxe5,Rxe5,Rf1+,Kg2,Rb1,Ba3,Ra1,Rxd5', 'Bc6,Kf2,Bxd5', 'https://lichess.org/training/chsbB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChT1i', 'Rapid', 'Motal98', 1851, 'bestamioi', 1951, 'e4,d5,e5,c5,d4,cxd4,Nf3,Nc6,Bf4,Bg4,Be2,Bxf3,Bxf3,e6,Nd2,Be7,Nb3,Bg5,Bxg5,Qxg5,Nxd4,Qxe5+,Ne2,Nf6,O-O,O-O,Re1,Qc7,c3,Rad8,Nd4,Nxd4,Qxd4,a6,Re3,Rfe8,Rae1,b5,Bd1,Qc4,Qe5,Qxa2,Rg3,Kh8,Qg5,Rg8,b3,Qa1,Qe5,Ne4,Rh3,f6', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/ChT1i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChtVc', 'Blitz', 'cunick', 1543, 'GP7', 1535, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nc3,Bb4,Nf3,Nf6,Bg5,O-O,e5,Bxc3+,bxc3,h6,exf6,hxg5,fxg7,Kxg7,Bd3,f5,O-O,g4,Ne5,Nxe5,dxe5,Rh8,c4,Qh4,h3,b6,Be4,fxe4,Qxg4+,Qxg4,hxg4,Bb7,Rad1,Bc6,f4,Rh4,g5,Rah8,Kf2,Rxf4+,Ke3,Rf5,Rxf5,exf5,Rd6,Rh2,Kf2,e3+,Kxe3,Rxg2,e6,Rxg5,exd7,Bxd7,Rxd7+,Kf6,Rxa7,Rg3+,Kf4,Rc3,Ra6,Rxc4+,Kf3,Rc3+,Ke2,Rc2+,Kd3,Rb2,Kc3,Rb1,a4,Kg5,Kc2,Rb4,Kc3,Rb1,Kc2,Ra1,Kb2,Re1,Rxb6,f4,a5,Re4,Rb5+,Kg4,a6,Ra4,Rb6,f3,Kb3,Ra5,Rb4+,Kg3,Ra4', 'Rxa4,Kxa4,f2', 'https://lichess.org/training/ChtVc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CHtwW', 'Rapid', 'detsiros', 1528, 'woolves', 1509, 'd4,d5,Bf4,Nf6,Nc3,Bf5,e3,e6,Nf3,h6,Nb5,Na6,Be5,Ne4,Bd3,c6,Nc3,Nb4,Na4,Nxd3+,cxd3,Nf6,Nc5,b6,e4,Bh7,Na6,Bd6', 'Bxd6,Qxd6,e5,Qd7,exf6', 'https://lichess.org/training/CHtwW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChU50', 'Blitz', 'john1659', 1519, 'Filippo_Chess', 1570, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,c3,O-O,Re1,d6,d4,exd4,cxd4,Bb6,Bg5,h6,Bh4,Bb7,Nc3,Re8,Nd5,g5,Nxg5,Nxd5,Bxd5,hxg5,Qh5,gxh4,Qxf7+,Kh8,Qh5+,Kg7,Re3,Bxd4,Rf3,Bf6', 'Qf7+,Kh6,Rxf6+,Qxf6,Qxf6+', 'https://lichess.org/training/ChU50');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cHVeD', 'Rapid', 'cyrovespa', 1631, 'almafabio', 1685, 'd4,c6,c4,d5,e3,Bf5,Nc3,Nf6,Bd3,Bxd3,Qxd3,dxc4,Qxc4,b5,Qe2,e6,Nf3,Be7,Bd2,Nbd7,O-O,e5,dxe5,Nd5,Nxd5,cxd5,Bc3,O-O,Nd4,a6,a3,Nc5,f3,Ne6,Nc6,Qc7,Nd4,Nxd4,Bxd4,Rac8,f4,f6,e6,Bc5,Rac1,Qd6,f5,Bxd4,exd4,Rc4,Rcd1,Rfc8,Rd2,Rc1,Re1,Rxe1+,Qxe1,g6,fxg6,hxg6,Qe3,g5,Re2,Re8,g3,Kg7,Kg2,Kg6,g4,f5,Qd3,Qf4,gxf5+,Kf6,Rf2,Qg4+,Qg3,Qxd4,h4,gxh4,Qg6+,Ke5,Qxe8,h3+,Kh1,Qxf2,Qh8+,Kxf5', 'Qf8+,Kxe6,Qxf2', 'https://lichess.org/training/cHVeD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CHWtL', 'Rapid', 'maksim_bezgodov', 1638, 'cueman87', 1683, 'e4,c6,d4,d5,e5,f6,exf6,Nxf6,Bg5,e6,Qf3,Be7,Nh3,O-O,Bd3,Qb6,O-O,Qxb2,Nd2,Qc3,Nb3,Ne4,Qh5,Bxg5,Nxg5,Nxg5,Qxg5,Nd7,Qh4,Nf6,Qh3,Qb4,Nc5,e5,Ne6,Qd6,Bf5,Re8,dxe5,Qxe5,Rae1,Qd6,Ng5,Bxf5,Qxf5,Rf8,Re6,Qd8', 'Rxf6,Rxf6,Qxh7+', 'https://lichess.org/training/CHWtL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChX2D', 'Classical', 'Nikolai85', 1905, 'niklos', 1862, 'e4,c5,Nc3,Nc6,Bc4,e6,Nf3,d6,d4,cxd4,Nxd4,Nf6,Be3,a6,a4,Be7,O-O,O-O,f4,Qc7,Qe2,Re8,Rad1,Bd7,g4,Nxd4,Bxd4,Bc6,g5,Nd7,Be3,Bf8,Rf3,f5,exf5', 'Bxf3,Bxe6+,Rxe6', 'https://lichess.org/training/ChX2D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('chx8P', 'Rapid', 'Abdullahhhhhhh', 1761, 'Jamalt', 1774, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bd7,Nc3,Nf6,Bf4,e6,O-O,Be7,Qd3,O-O,Be5,Nb4,Qd2,Bxb5,Nxb5,Ne4,Qf4,f6,Qg4,fxe5,Qxe6+,Kh8,Nxe5,Qe8,Nc7,Qc8,Qxe7,Qf5,Nxa8,Nxf2,Nc7,Nxc2,Rac1,Ne3,Ne6', 'Nh3+,Kh1,Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/chx8P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cHxC3', 'Rapid', 'orzelps', 1651, 'hero2370', 1697, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bb6,c3,d6,d4,exd4,cxd4,Bg4,Bb2,Nge7,Bxf7+,Kd7,O-O,Rf8,d5,Rxf7,dxc6+,Nxc6,b5,Bxf3,bxc6+,bxc6,gxf3,Qg5+,Kh1,Raf8,Nd2,Rf4,Rg1,Qh5,Rg4,Rxg4,fxg4,Qh4,f3,Be3,Qe2,Bxd2,Qxd2,Rxf3,e5', 'Rf2,Qxf2,Qxf2', 'https://lichess.org/training/cHxC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChXt6', 'Rapid', 'drazzo', 1859, 'rycerz424', 1931, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bd3,Be7,h3,O-O,Be3,c5,Qc4,Be6,Nd5,a6,Nxe7+,Qxe7,Qc3,b5,a3,c4,Be2,Nxe4,Qd4,d5,O-O-O,a5,f3,Ng3,Rhe1,b4,a4,Nf5,Qd2,c3,bxc3,bxc3,Qxc3,Rfc8,Qd3,Rc6,g4,Nxe3,Qxe3,Rac8,Bd3,Qa3+,Kb1,d4', 'Bxh7+,Kxh7,Qxa3', 'https://lichess.org/training/ChXt6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ChY8f', 'Rapid', 'Andorrano', 2173, 'Signoretomato', 1805, 'd4,Nf6,Nf3,d5,c4,e6,Nc3,Bb4,Bg5,c5,e3,Qa5,Bxf6,Bxc3+,bxc3,Qxc3+,Nd2,gxf6,dxc5,dxc4,Bxc4,Nc6,O-O,O-O,Rc1,Qb4,Ne4,f5,Ng5,h6,Qh5,hxg5,Qxg5+,Kh7,f4,Rg8,Qf6,Rg7,Rf3,Kg8,Rh3,Qd2,Bf1,Qxc1,Qh6,Rxg2+,Kxg2,Qb2+,Kg1,Qg7+', 'Rg3,Qxg3+,hxg3', 'https://lichess.org/training/ChY8f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CHzrM', 'Rapid', 'R_ook2_D2', 2217, 'Blagrar', 2272, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,dxc4,a4,Bf5,e3,e6,Bxc4,Bb4,O-O,Nbd7,Qe2,Bg6,Rd1,O-O,Nh4,Bh5,Nf3,Bxc3,bxc3,Ne4,Qc2,Bxf3,gxf3,Nd6,Bd3,Qg5+,Kh1,Qh5,Be2,Qh4,Bf1,f5,Ba3,Qe7,Bc4,Nf6,Rab1,Rad8,Qa2,Rfe8,Qb2,b6,Ba2,Kh8,Rg1,e5,Rg2,exd4,cxd4,f4,e4,Nfxe4,fxe4,Qxe4,Bxd6,Rxd6,Rg1,Rg6,Bb1', 'Qxg2+,Rxg2,Re1+,Rg1,Rgxg1#', 'https://lichess.org/training/CHzrM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CI0CT', 'Rapid', 'leminhnguyen100408', 1927, 'tamil_boy_fr', 1852, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,c3,c6,Bc4,b5,Bb3,Qg5,O-O,Bc5,d3,Qg6,cxd4,Bxd4,Nc3,Nf6,Be3,Bxe3,fxe3,d6,d4,Bg4,Qe1,O-O,Rf4,Bh3,Qf2,b4,Ne2,Be6,Bxe6,fxe6,Rf1,h5,e5,Nd7,exd6,Rxf4,Qxf4,Rf8,Qh4,Rxf1+,Kxf1,Nf6,Qh3,Ng4,Nf4,Qb1+,Ke2,Qxb2+,Kf3,Qf2+,Ke4,Qxa2,Qxh5', 'Nf6+,Kf3,Nxh5', 'https://lichess.org/training/CI0CT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ci0gi', 'Blitz', 'Polotskgas', 1627, 'JanF', 1691, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bc4,Be7,Bxf7+,Kxf7,Ng5+,Kf8,d3,d6,O-O,g6,f4,Kg7,f5,Rf8,fxg6,hxg6,h4,Rh8,g3,Bg4,Qxg4,Nxg4,Ne6+,Kh7', 'Rf7+,Kg8,Rg7#', 'https://lichess.org/training/Ci0gi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ci16B', 'Classical', 'arshah2', 2141, 'lc69', 1994, 'e4,c5,a3,Nc6,b4,Nf6,b5,Nd4,c3,Ne6,e5,Nd5,Nf3,d6,c4,Ndf4,g3,Ng6,exd6,Qxd6,Bg2,Nd4,O-O,Bg4,Bb2,Qd7,d3,e5,Nbd2,h5,Bxd4,cxd4,Qe1,f6,Ne4,h4,a4,hxg3,fxg3,Be7,c5,Bxf3,Rxf3,f5,c6,bxc6,bxc6,Qe6,Nf2,O-O,Nh3,Bc5,Nf4,Nxf4,Rxf4,Qe7,Bd5+,Kh7,Rh4+,Kg6,Qe2,Rad8,Qh5+,Kf6,g4,g6', 'g5+,Kg7,Qh6#', 'https://lichess.org/training/Ci16B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cI2rl', 'Rapid', 'vahid600', 1901, 'Ego1980', 2065, 'e4,e5,f4,exf4,Nf3,g5,Bc4,d6,h3,Bg7,Nc3,Be6,Bxe6,fxe6,d4,Nc6,d5,Bxc3+,bxc3,exd5,exd5,Ne5,Nxe5,dxe5,Qh5+,Kf8,Ba3+,Kg7,c4,h6,h4,Nf6,Qf3,g4,Qc3,Re8,O-O-O,Ne4,Qe1,Ng3,Rh2,e4,d6,c6,d7,Re6,Rd6,Rxd6,Bxd6,Qf6,Ba3,Rd8', 'Bb2,Rxd7,Bxf6+', 'https://lichess.org/training/cI2rl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ci4UQ', 'Classical', 'era1990', 1785, 'bahusus', 1692, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,Nc6,Be3,d6,Bb5,Bd7,O-O,Be7,Nc3,Nf6,Qf3,O-O,Nxc6,Bxc6,Bxc6,bxc6,Qg3,Nh5,Qg4,Nf6,Qf3,d5,exd5,cxd5,Bd4,Ne4,Qg4,Bf6,Bxf6,Nxf6,Qd4,Re8,f4,Qb6,Qxb6,axb6,Nb5,Rec8,c3,Ng4,h3,Ne3,Kf2,Nc4,b3,Nd2,Rfc1,Ne4+,Kf3,f5,g4,Ra5,a4', 'Nd2+,Ke3,Nxb3', 'https://lichess.org/training/ci4UQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ci5xg', 'Rapid', 'a_stoykov86', 1959, 'remimi', 2011, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c4,Be7,Nc3,c6,Be2,O-O,O-O,Ne4,Ne5,Nxc3,bxc3,Bf6,f4,Bf5,cxd5,cxd5,Bg4,Be4,Re1,Bxe5,fxe5,Nc6,c4,f5,exf6,Qxf6,cxd5,Bxd5,Ba3', 'Qf2+,Kh1,Bxg2#', 'https://lichess.org/training/ci5xg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ci8EG', 'Rapid', 'Ardena', 2057, 'smarichess', 2045, 'e4,c6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nc3,Bf5,Nf3,e6,a3,a6,Bd3,Bxd3,Qxd3,Nge7,Bg5,h6,Bh4,g5,Bg3,Nf5,h3,Qb6,O-O-O,Be7,Nxd5,Qa5,Nxe7,Ncxe7,Kb1,Nd5,Nd2,Rc8,Nb3,Qa4,Rc1,O-O,h4,Rxc1+,Kxc1,Nxg3,fxg3,Rc8+,Kb1,Qc6,hxg5,hxg5,Qh7+,Kf8,Qh6+,Ke8,Qxg5', 'Qc2+,Ka1,Qxb3,Qg8+,Kd7,Qxf7+,Ne7', 'https://lichess.org/training/Ci8EG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CI9Eh', 'Rapid', 'CalJr', 1727, 'VanderMannovyk', 1614, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,h3,d6,Bg5,h6,Bh4,Be6,Bb5,a6,Bxc6+,bxc6,O-O,Qd7,Kh2,g5,Bg3,Nh5,Nxe5,dxe5,Qxh5,Bd6,Nd2,O-O-O,Nc4,f5,Bxe5,Bxe5+,Nxe5,Qd6,d4,Qxd4,Nxc6', 'Qd6+,Kg1,Qxc6', 'https://lichess.org/training/CI9Eh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cI9Pa', 'Blitz', 'miseriapopular', 1826, 'Mohamed_imam57', 1763, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bc4,Bc5,d3,O-O,O-O,d6,h3,Be6,Nd5,Qd7,Nxf6+,gxf6,Nh2,Kh8,Kh1,Rg8,c3,Rg6,Bxe6,fxe6,Qf3,Rag8,g3,d5,Be3,Bb6,Bxb6,axb6,Rg1,Ne7,Ng4,f5,exf5,Rxg4,hxg4,exf5,Kg2,Rxg4,Rh1,Ng6,Kf1,c6,Ke2,e4,dxe4,Rxe4+,Kd2,Ne5,Qh5,Nc4+,Kc2,Qe7,Rab1,Re2+,Kb3,Rxb2+,Rxb2', 'Qa3+,Kc2,Qxb2+,Kd3,Qd2#', 'https://lichess.org/training/cI9Pa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CIaxd', 'Blitz', 'GM AGG2020', 2519, 'FM Saiiiiii', 2541, 'e4,d6,d4,Nf6,Nc3,e5,Nf3,Nbd7,a4,Be7,Bd3,O-O,O-O,c6,Re1,a5,b3,Re8,Ne2,Bf8,Ng3,Qc7,Bb2,g6,h3,Bg7,c4,b6,Qd2,Bb7,Rad1,Rad8,Bc2,exd4,Nxd4,Nc5,Bc3,Bc8,Qf4,Nfd7,Ba1,Ne5,Qd2,Ne6,Nde2,f6,f4,Nf7,Bc3,Nc5,Qc1,Qe7,Qb2,Bh8,Kh2,Nh6,Ng1,Qf7,Nf3,Bg7,Rd2,Qf8,Red1,Qe7,Rf2,Nf7,Nd4,Bd7,Rfd2,Ne6,Nxe6,Bxe6,Re2,Bc8,Rde1,Ba6,e5,fxe5,fxe5,dxe5,Ne4,Bb7,Rf2,c5,Ref1,Bxe4', 'Rxf7,Qxf7,Rxf7', 'https://lichess.org/training/CIaxd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cibMF', 'Classical', 'Beohari', 1710, 'capanegra1979', 1750, 'c4,c5,Nc3,g6,g3,Bg7,Bg2,Nc6,e3,d6,Nf3,Nf6,O-O,O-O,d4,Bd7,a3,cxd4,exd4,e6,b4,a6,d5,exd5,cxd5,Ne7,Rb1,Rc8,Bb2,Bf5,Rc1,Re8,Nd4,Qd7,Nxf5,Qxf5,Qf3,Qxf3,Bxf3,Nf5,Ne4', 'Nxe4,Rxc8,Rxc8', 'https://lichess.org/training/cibMF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cID4a', 'Bullet', 'enricolarte', 1683, 'Karma02', 1720, 'd4,c6,e3,d5,Bd3,Nf6,Nd2,e6,f4,Bb4,c3,Bd6,Ngf3,O-O,O-O,Nbd7,Ne5,Bxe5,dxe5,Ne8,g4,f6,exf6,Rxf6,g5,Rf8,Bxh7+,Kxh7,Qh5+,Kg8,g6,Nef6,Qh3,Re8,Nf3,Kf8,Qh8+,Ke7,Qxg7+,Kd6,b3,Rg8,Ba3+,Kc7,Qf7,Ne4,Ng5,Nxg5,fxg5,Qxg5+,Kh1,Qxg6,Qf4+,e5,Qb4,Qe4+,Qxe4,dxe4,Rf7,c5,Bxc5,Kc6,b4,Nxc5,bxc5,Kxc5,Raf1,Be6,Rxb7,Kc4,Rc7+,Kd3,Re1,Bxa2,Rd7+,Kc4,Ra1,Bb3,Rc7+,Kd3,Rb1,Bc2,Rd7+,Kxe3,Re1+,Kf3', 'Rf7+,Kg4,Rg1+,Kh5,Rh7#', 'https://lichess.org/training/cID4a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CIDbw', 'Classical', 'andrius938_1', 1649, 'pedikabo', 1662, 'd4,d5,Bf4,Nc6,Nf3,Nf6,Nbd2,h6,c3,Bf5,h3,g5,Bh2,e6,e3,Bd6,Be2,Ne4,Bxd6,Nxd2,Bxc7', 'Nxf3+,Bxf3,Qxc7', 'https://lichess.org/training/CIDbw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CIdE7', 'Blitz', 'Whitebear3', 2015, 'dbz132131w', 1892, 'd4,Nf6,e3,d5,f4,g6,Nf3,Bg7,c3,O-O,Bd3,b6,O-O,Bb7,Nbd2,Nbd7,Ne5,c5,b3,Rc8,Ba3,Ne4,Bxe4,dxe4,Ndc4,b5,Nxd7,Qxd7,Ne5,Bxe5,fxe5,cxd4,cxd4,a5,Bc5,Rfd8,Qe2,Qc6,Qf2,Qe8,Qf4,Rd7,Rf2,e6,Raf1,Ba6,Qxe4,b4,Rc1,Bb7,Qf4,Rdc7,Rcf1,Qb5,Qh6,Ba6,Rxf7,Rxf7,Rxf7,Kxf7', 'Qxh7+,Ke8,Qe7#', 'https://lichess.org/training/CIdE7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CIEZq', 'Rapid', 'DAN_1974', 2020, 'vahab12', 2128, 'e4,c5,Nf3,a6,a4,e6,e5,Nc6,Bc4,f6,exf6,Nxf6,d3,Be7,Nc3,O-O,O-O,d5,Ba2,Qc7,Re1,Ng4,g3,Bd6,Kg2,Qf7,Rf1,Nf6,Ne2,Bd7,Nf4,h6,c3,e5,Nh3,Bg4,Nhg1,Kh8,Qc2,e4,dxe4,Nxe4,Nd2,Nxf2,Ne4,Bh3+,Nxh3', 'Qf3+,Kg1,Nxh3#', 'https://lichess.org/training/CIEZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cIf1C', 'Blitz', 'Mabrook3', 1541, 'philou1969', 1587, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,bxc6,Bc4,Qf6,Nc3,Be7,O-O,Nh6,Qh5,O-O,Bxh6,Qxh6,Qxh6,gxh6,Rad1,Be6,Be2,Kh8,a3,Rg8,Bf3,Rab8,b4,Bf6,Ne2,Bc4,Rfe1,Be6,Nd4,Bxd4,Rxd4,Rg5,Rd2,Rbg8,g3,Bg4,Bg2,h5,f3,Be6,f4,R5g7,f5,Bd7,Bf3,h4,g4,h5,h3,hxg4,Bxg4,f6,c4,Re8,Kf2,Re5,Re3,Kh7,Rde2,Kh6,Bf3,Rg3,Bg2,Rg5,Bf1,Be8,Rd2,Bd7,Be2,Re8,c5,Reg8,cxd6,Rg2+,Ke1,Rg1+,Bf1,cxd6,Rxd6,Kg5,Rxd7,Kf4,Re2,R1g3,Rd6,Rxa3,Kd2,Ra2+,Kd3,Ra3+,Kc4,Rgg3,Rxf6,Rgc3+,Kd4', 'Rd3+,Kc5,Rac3#', 'https://lichess.org/training/cIf1C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CIFl9', 'Blitz', 'petekara', 1661, 'tman1194', 1756, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,d6,d3,Be7,Be3,O-O,Qd2,a6,h3,b5,Bb3,Na5,g4,Nxb3,axb3,d5,exd5,Nxd5,g5,Nxe3,Qxe3,Re8,O-O-O,Bb7,Ne4,Bxe4,dxe4,Qc8,Nxe5,Qe6,f4,Bxg5,h4,Bxf4,Qxf4,Qxe5,Rhf1,Qxf4+,Rxf4,Rad8,c3,g6,Rdf1,Re7,Kc2,Kg7,Re1,Re5,Ref1,Rd7,R1f2,Rde7,Re2,Kh6,Kd3,c5,c4,Kh5,cxb5,axb5,b4,g5,hxg5,Kxg5,Ref2,h5,Ke3,h4,Rg2+,Kh5,Rgg4,h3,Rh4+,Kg5', 'Rfg4+,Kf6,Rh6#', 'https://lichess.org/training/CIFl9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cifui', 'Blitz', 'Isroiljon_80', 1632, 'Bo0rookOboma', 1628, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,e3,dxc4,Bxc4,Nbd7,Nc3,Nb6,Bb3,O-O,O-O,Nfd5,Bxe7,Qxe7,Bc2,Nb4,a3,Nxc2,Qxc2,Nd7,Nb5,c6,Nc3,Nf6,Rac1,h6,Ne5,Bd7,Ne2,Rac8,Qb3,Rc7,Qd3,Rfc8,b4,Be8,Ng3,Nd7,Nf3,Nf6,Rfe1,Ra8,Ne5,a5,bxa5,Rxa5,Rc3,Nd5,Rb3,c5,Rc1,cxd4,Rxc7,Qxc7,Qxd4,Qc1+,Nf1,Rxa3,Rxb7,Ra1,Qd3,Nc3,Rb8', 'Qxf1+,Qxf1,Ne2+,Kh1,Rxf1#', 'https://lichess.org/training/cifui');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cIgAs', 'Classical', 'Romic_B', 1699, 'Ivan18031971', 1748, 'd4,b6,c4,g6,Nc3,Bg7,Nf3,Bb7,Bf4,h6,e3,e6,Bd3,Ne7,O-O,O-O,Qc2,Na6,a3,c5,Rfd1,cxd4,Nxd4,Nc7,Be2,d5,cxd5,Ncxd5,Bg3,Qc8,Nxd5,Qxc2', 'Nxe7+,Kh7,Nxc2', 'https://lichess.org/training/cIgAs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CiH4m', 'Rapid', 'dlay17', 1650, 'Lazevedo23', 1730, 'b3,e5,Bb2,Nc6,e3,a6,d4,f6,Bd3,d6,Nf3,Bg4,O-O,f5,e4,Nxd4,Bxd4,exd4,exf5,Ne7,h3,Bxf5,Bxf5,Nxf5,Nxd4,Qf6,c3,O-O-O,b4,Nxd4,Qxd4,Qxd4,cxd4,g6,Nc3,Bg7,Rad1,c6,a4,d5,Rfe1,Rde8,Rxe8+,Rxe8,g4,Rf8,Kg2,Rf4,Ne2,Re4,Kf3,b5,axb5,axb5,Rd3,Kc7,h4,Kd6,g5,Rxh4,Nf4,Rh1,Ke3,Rb1,Nh3,Rxb4,f4,Rc4,Nf2,b4,Ng4,Rc3,Ne5,Rxd3+,Kxd3,Bxe5,fxe5+,Ke6,Kc2,Ke7', 'Kb3,Ke6,Kxb4,Kf5,Kc5', 'https://lichess.org/training/CiH4m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cIHbg', 'Rapid', 'jordieboi1', 2001, 'TOPT', 2009, 'e4,c5,Nf3,Nc6,Bb5,Qb6,Nc3,a6,Bxc6,Qxc6,O-O,d6,d4,Bg4,dxc5,dxc5,Re1,e6,b3,Nf6,Bb2,Be7,e5,Bxf3,Qxf3,Qxf3,gxf3,Nd5,Ne4,Nb4,Rec1,b6,a3,Nc6,f4,Rd8,Rd1,O-O,Kg2,f6,exf6,Bxf6,Nxf6+,gxf6,Re1,Kf7,Rad1,Rg8+,Kf3,Nd4+,Bxd4,cxd4,Re4,Rc8,Rexd4,Rxc2', 'Rd7+,Kg6,Rg1+,Kf5,Rxg8', 'https://lichess.org/training/cIHbg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ciiGf', 'Classical', 'Tricktail', 2139, 'OneDownTwoToGo', 1893, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,d5,exd5,Nxd5,Bg5,Be7,Bxe7,Ndxe7,Re1,Qd6,Na3,a6,Bb3,Bg4,h3,Bh5,Nc4,Qf6,g4,Ng6,gxh5,Nf4,Ncxe5,Nxe5,Rxe5,Rfe8,Qe1,Nxh3+,Kh2,Qf4+,Kxh3', 'Qxf3+,Kh2,Qf4+', 'https://lichess.org/training/ciiGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cijvd', 'Classical', 'Ernestillo', 1779, 'tuco84', 1602, 'e4,e5,Nf3,Nf6,Nc3,d6,h3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,Be7,d4,exd4,Nxd4,c5,Nc6,Qd7,Nxe7,Qxe7,Bg5,Qe5,f4,Qd4+,Qxd4,cxd4,Bxf6,gxf6,Nd5,Kd7,Rad1,c5,Nb6+,Kc6,Nxa8,Bb7,c3,dxc3,bxc3,Bxa8,Rd2,Kc7,e5,fxe5,fxe5,dxe5,Rxf7+,Kb6,Rf6+,Kb5,Rb2+,Kc4,Rxa6,Kxc3,Rb3+,Kd4,Rba3,Bb7,R6a4+,c4,Rg3,h5,Rg7,Bd5,Rd7,Rc8,Ra5,Rc5,Rxc5,Kxc5,Rc7+,Kd4,Kf2,c3,a4,Kd3,g4,c2,Rxc2,Kxc2,gxh5,Kd3,a5,e4,h6,e3+', 'Ke1,Be4,a6', 'https://lichess.org/training/Cijvd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ciK9H', 'Blitz', 'Knightschesss', 1974, 'Pivello', 1814, 'd4,d6,c4,e6,Nc3,g6,e4,Bg7,f4,Ne7,Nf3,Nd7,Be3,b6,Bd3,Bb7,O-O,O-O,f5,exf5,exf5,gxf5,Nh4,Ng6,Nxf5,Bf6,Nh6+,Kh8,Qh5,c6,Ne4,c5,d5,Bxb2,Nxd6,Nde5,Nxb7,Qd7,Bf5,Qxb7,Rab1,Bd4,Bxd4,cxd4,c5,Qxd5,cxb6,axb6,Rbe1,Rxa2,Bh3,d3,Rd1,b5,Qf5,b4', 'Qf6#', 'https://lichess.org/training/ciK9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cIktt', 'Rapid', 'udamyson', 1629, 'thomana', 1617, 'd4,d5,c4,dxc4,a4,Nc6,Nf3,Bg4,e3,Bxf3,Qxf3,Na5,Nd2,Nf6,Bxc4,e6,Bb5+,c6,Bc4,Bb4,O-O', 'Bxd2,Bxd2,Nxc4', 'https://lichess.org/training/cIktt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cIlfz', 'Rapid', 'carpan', 2021, 'risty', 2025, 'e4,g6,d4,Bg7,Nf3,b6,Nc3,Bb7,Bd3,e6,Bg5,Ne7,Qd2,O-O,Bh6,d5,exd5,Nxd5,Bxg7,Kxg7,O-O-O,Nxc3,Qxc3,Bxf3,gxf3,Kg8,h4,Nd7,h5,Qg5+,Kb1,Nf6,hxg6,fxg6,Rdg1,Qf4,Qc6,Qd6,Qc3,Nd5,Qe1,Rxf3,Be4,Rf7,c4,Rf4,cxd5,exd5,Bc2,Rxd4,f3,Rf8,Qc3,Qf4,Be4,c5,Qb3,Qe5,Re1,Kg7,Rxh7+,Kf6,Rf1,Qg5,Rxa7,dxe4,fxe4+,Ke5,Qh3,Rxf1+,Qxf1,Rxe4,Rb7,Rb4,Qe1+,Kd6,Qd1+,Rd4,Qf1,Kc6,Qf3+,Rd5,Re7,Qg1+,Kc2,Qh2+,Kb3,Qh4', 'Re6+,Kb5,Qxd5,Qg3+,Kc2', 'https://lichess.org/training/cIlfz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cimR8', 'Rapid', 'kolok2006', 1652, 'Prana30', 1582, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,bxc6,Nxe5,Qg5,Nf3,Qxg2,Rf1,d6,d3,Bg4,Nbd2,Ne7,Qe2,Bxf3,Nxf3,Qg6,Be3,Bb4+,c3,Ba5,O-O-O,Qe6,Rg1,Ng6,Ng5,Qxa2,Qf3,f6,Nh3,Rb8,Rd2,Ne5,Qh5+,g6,Qh4,Bxc3,Qxf6,Bxd2+,Bxd2,Qxb2+,Kd1,Rf8', 'Qe6+,Kd8,Bg5+,Rf6,Bxf6#', 'https://lichess.org/training/cimR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cIo4c', 'Classical', 'PawnMad', 1712, 'maodellajungla', 1705, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,c5,e5,Nd5,Nf3,e6,Bd3,Nc6,Qa4,Bd7,Bb5,a6,Nxd5,exd5,Bxc6,Bxc6,Qc2,Qb6,Be3,c4,O-O,Be7,Bg5,Bxg5,Nxg5,Qxd4,Qf5,Rf8,Nxh7,Bd7,e6,Bxe6,Rfe1,O-O-O', 'Rxe6,fxe6,Qxe6+,Kb8,Nxf8', 'https://lichess.org/training/cIo4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CIqBi', 'Rapid', 'Crest81', 1908, 'albertli', 1847, 'd4,d5,c4,e6,Nc3,Nf6,a3,c5,dxc5,Bxc5,cxd5,Nxd5,Nxd5,Qxd5,Qxd5,exd5,Nf3,O-O,e3,Nc6,b4,Bb6,Bb2,Re8,Be2,Bg4,O-O,d4,Nxd4,Bxd4,Bxg4,Bxb2,Ra2,Bf6,Rc2,g6,Bd7,Red8,Bxc6,bxc6,Rxc6,Bb2,a4,a6,Rb1,Ba3,b5,axb5,axb5,Rdb8,g3,Rb7,Rb3,Be7,Rc1,Rab8,Rcb1,f5,Kg2,Kf7,Kf3,Ke6,h4,Kd6,Rd1+,Kc5,Rc1+,Kb6', 'Rc6+,Ka5,Ra6#', 'https://lichess.org/training/CIqBi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cIQDR', 'Blitz', 'decaptador', 2131, 'KochamPaniaSylwie', 2208, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bg5,Be7,Bxf6,gxf6,Nf3,f5,Nc3,c5,Bb5+,Bd7,Bc4,Nc6,d5,Na5,dxe6,fxe6,Ne5,Nxc4', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/cIQDR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cItda', 'Rapid', 'hamir', 1805, 'amrhussien', 1812, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,a3,Nf6,Nf3,c6,Be2,Be7,O-O,O-O,b4,b6,h3,a5,b5,cxb5,Nxb5,Nc6,c3,Qd7,a4,Rd8,Bf4,Nd5,Bg3,Na7,Nxa7,Nxc3,Qc2,Nxe2+,Qxe2,Rxa7,Rfd1,Qd5,Rab1,Bb4,Rbc1,Ba6,Qc2,Rad7,Ne5,Bb7,f3,Re7,Nc6,Bxc6,Qxc6,Qxc6,Rxc6,Red7,Bf2,Rb7,Bh4,Re8,Bg3,b5,axb5,Rxb5,Rb1,Rd5,Bf2,h6,Be3,e5,dxe5,Rdxe5,Bf2,Ra8,Rc4,Bf8,Ra4,Bb4', 'Rbxb4,axb4,Rxa8+', 'https://lichess.org/training/cItda');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cITQ6', 'Rapid', 'j_r_palit140', 1781, 'meteravan', 1601, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,Bb4,Qd2,Nxe4,Nxe4,Bxd2+,Nxd2,Nxd4,Bxd4,Qa5,Bxg7,Rg8,Bc3,Qb6,O-O-O,Qc6,f3,Qd5,Bc4,Qc6,Bd3,Rxg2,f4,Qa4,Kb1,Qxf4,Bxh7,Rxh2,Rhf1,Qh6,Bd3,b6,Be4,d5,Bd3,Bb7,Bb5+,Ke7,Bb4+,Kd8,Rxf7,Bc8,Rf8+,Kc7,Rf7+,Bd7,Rxd7+,Kc8,Rf7,a5,Rf8+,Kb7,Rf7+,Kc8,Ba3,Qxd2,Rdf1,Qxc2+,Ka1,Rh8,Bd7+,Kb8', 'Bd6+,Qc7,Bxc7+', 'https://lichess.org/training/cITQ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ciTTm', 'Blitz', 'Cz11', 2019, 'Dr_King_Schultz', 2029, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,Qa5+,Bd2,Bb4,c3,Bd6,c4,Qc7,Ne4,Be7,O-O-O,Ngf6,g3,Nxe4,Qxe4,O-O-O,Bc3,c5,d5,Nf6,Bxf6,Bxf6,dxe6,Qb6,b3,Qa5,Qc2,fxe6,Nd2,Rd4,Rhe1,Rhd8,Nf3,Rxd1+,Rxd1', 'Qa3+,Kb1,Rxd1+,Qxd1,Qb2#', 'https://lichess.org/training/ciTTm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cIu5C', 'Blitz', 'riki62', 2084, 'Rudess', 2119, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,c5,Ne2,O-O,Be3,Nc6,h4,h5,Qd2,a6,Bh6,b5,Bd5,Bb7,Bxg7,Kxg7,g4,hxg4,h5,Rh8,O-O-O,cxd4,Nxd4,Rc8,Kb1,e6,hxg6,exd5,Nf5+,Kxg6', 'Rh6+,Rxh6,Qxh6#', 'https://lichess.org/training/cIu5C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CiU72', 'Rapid', 'Thekiller78', 1697, 'furrykef', 1673, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Bc4,Nxe4,Nxc6,bxc6,Qf3,d5,Bb3,Bd6,O-O,O-O,Nd2,f5,Nxe4,fxe4,Qxe4,Bf5,Qa4,Rf6,Bg5,Be4,Bxf6,Qxf6,Qxc6', 'Bxh2+,Kxh2,Qxc6', 'https://lichess.org/training/CiU72');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CiWPj', 'Rapid', 'jorge16correa', 1738, 'francesco_17', 1761, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d3,h6,O-O,a6,Ba4,b5,Bb3,Ng6,Nc3,Bc5,Be3,Bxe3,fxe3,O-O,a3,d6,Bd5,Bb7,Ne2,Na5,Ba2,Nh4,Qe1,Nxf3+,Rxf3,d5,exd5,Bxd5,Bxd5,c6,Ba2,Nb7,Qf2,Nd6,Ng3,Qe7,Nf5,Nxf5,Rxf5,e4,dxe4,Qxe4,Bxf7+,Kh8,Bg6,Rxf5,Bxf5,Qe5,c3,Rf8,e4,g6,Qh4,gxf5,Qxh6+,Kg8,exf5,Qxf5,Qxc6', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/CiWPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CIWUL', 'Blitz', 'WizardChess007', 2035, 'PedroMares83', 1831, 'e4,e6,d4,d5,Nd2,c5,c3,cxd4,cxd4,Bb4,a3,Ba5,e5,Nc6,Nf3,Nge7,b4,Bb6,Nb3,Nf5,Be3,Nxe3,fxe3,O-O,Bd3,h6,Qe2,Ne7,g4,Ng6,O-O,Bd7,h4,Nxh4,Nc5,Nxf3+,Qxf3,Bxc5,bxc5,a6,e4,Bc6,Rad1,dxe4,Bxe4,Bxe4,Qxe4,Qd5,Qf4,Rad8,g5,hxg5,Qxg5,Qe4,Qf4,Qg6+,Kh1,Qh5+,Kg1,Kh7,Rd3,Rh8,Qxf7,Qg4+,Kf2,Rdf8', 'Rh1+,Qh5,Rxh5#', 'https://lichess.org/training/CIWUL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cIXTd', 'Rapid', 'alekhinos', 1719, 'MimKemal', 1715, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,c5,d5,O-O,Bd3,Bg4,h3,Bxf3,Qxf3,Nbd7,Qe2,Ne5,Bc2,a6,f4,Ned7,g4,e5,g5,Nh5,Qf2,Nxf4,Bxf4,exf4,Qxf4,Be5,Qg4,Re8,O-O-O,Qa5,Kd2,Bxc3+,bxc3,Qxa2,Rb1,Qxc4,Rxb7,Ne5,Qf4,Reb8,Re7,Rb2,Qe3,Qb3,Rc1,Nc4+,Kd3,Nxe3,Bxb3,Rxb3,Kxe3,a5,e5,dxe5,Rxe5,a4,Kd3,a3,d6,a2,d7,Rb1', 'Re8+,Kg7,Rxa8', 'https://lichess.org/training/cIXTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CiyHf', 'Blitz', 'JesusMejia0110', 1841, 'thyestes', 1896, 'e4,c6,Nf3,d5,d4,Bg4,exd5,cxd5,Be2,Nc6,c3,e6,Nbd2,Nf6,Nf1,Bd6,Ng3,Qc7,O-O,Rc8,Qc2,O-O,Bd3,Bxf3,gxf3,Nxd4,cxd4,Qxc2,Bxc2,Rxc2,Bg5,Nd7,b3,h6,Be3,Rc3,Kh1,b6,Rg1,g5,h4,f5,hxg5,f4,gxh6,fxe3,Ne4+,Kh7,Nxc3,exf2,Rg2,Rxf3,Rg7+,Kxh6,Rxd7,Rh3+,Kg2,Rh2+,Kf3,Bb4,Ne2,Be1,Ng3,Rh3,Kg2', 'Rxg3+,Kxg3,f1=Q+,Rxe1,Qxe1+', 'https://lichess.org/training/CiyHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cIzew', 'Rapid', 'pills_junkie', 1610, 'Aitoririmia237', 1667, 'd4,d5,c4,dxc4,Nc3,Nf6,Nf3,e6,Bg5,h6,Bxf6,Qxf6,e3,c5,Bxc4,cxd4,Qxd4,Nc6,Qxf6,gxf6,O-O,e5,Nd5,Bd6,Nxf6+,Ke7,Ne4,Rg8,Nxd6,Kxd6,Rfd1+,Kc7,Bxf7,Rg7,Bb3,Bg4,Bd5,Nb4,Be4,Rag8,Kf1,h5,h3,Be6,a3,Na6,Bd5,Bxd5,Rxd5,Rxg2,Rc1+,Kb8,Ke2,e4,Nd4,Rf8,Ke1', 'Rg1+,Kd2,Rxf2+', 'https://lichess.org/training/cIzew');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ciZwU', 'Rapid', 'FM pisica12', 1640, 'Noor2019', 1628, 'e4,c5,Nf3,d6,h3,Nc6,c3,Nf6,Bd3,g6,Bc2,Bg7,d4,cxd4,cxd4,e6,Nc3,a6,Bg5,b5,d5,exd5,Nxd5,Bb7,a4,b4,O-O,a5,Qd2,h6,Bh4,O-O,Rad1,Ne5,Nxe5,dxe5,Nxf6+,Bxf6,Qxd8,Bxd8,Bg3,Bf6,Rd7,Bc6', 'Rd6,Bxa4,Bxa4', 'https://lichess.org/training/ciZwU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cj1g0', 'Rapid', 'KOSMA-7', 1860, 'amartin100', 1683, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,Kf1,d6,d4,Bg4,Nbd2,Nc6,c3,Nf6,a3,O-O,b4,Qe7,Qc2,Rfe8,Nxh4,Nxe4,Nhf3,Nxd2+,Qxd2,Bxf3,gxf3,Qh4,Qf2,Qh3+,Kg1,Re7,Bd2,Rae8,Bxf4,a6,Bg3,b5,Bd3,Re3,Bf1,Qh5,f4,Rf3,Qg2,Ree3,Be2', 'Rxe2,Qxe2,Rxg3+,hxg3,Qxe2', 'https://lichess.org/training/Cj1g0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cj61k', 'Rapid', 'danrad', 1994, 'muhammedbuba', 2009, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,h3,Qh5,Bc4,e6,Ne4,Bxf3,Qxf3,Qxf3,gxf3,c6,d4,Nd7,Bf4,O-O-O,O-O-O,Nb6,b3,Nxc4,bxc4,Ba3+,Kb1,Nf6,c5,Nd5,Nd6+,Kb8,Be5,f6,Bg3,Nc3+,Ka1,Nxd1,Rxd1,Ka8,c3,e5,Nc4,Bxc5,Rd2,exd4,cxd4,Bxd4+,Kb1,c5,Rd3,Rhe8', 'Nb6+,axb6,Ra3#', 'https://lichess.org/training/Cj61k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cJ6i1', 'Rapid', 'koreelev', 1883, 'WitNik', 1857, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Bc4,Nf6,Nc3,Be7,Nxc6,bxc6,O-O,O-O,Bd3,h6,h3,a5,f4,Nd7,Be3,Nb6,e5,d5,Kh1,f5,exf6,Bxf6,Bd2,Bb7,Qh5,Bxc3,Bxc3,d4,Qg6,Rf6,Qh7+,Kf7,Bd2,c5,Rae1,Qd7,Re5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/cJ6i1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CJ6ym', 'Rapid', 'AntiNik5', 1783, 'anubhavgupta36', 1763, 'e4,d5,exd5,Nf6,Nc3,e6,dxe6,Bxe6,Nf3,Qe7,a3,Nc6,Bb5', 'Bc4+,Ne2,Bxb5', 'https://lichess.org/training/CJ6ym');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cj9Rd', 'Rapid', 'Dani_D', 1680, 'sparips', 1684, 'e4,e5,Qf3,f6,Ne2,Nc6,d3,Nd4,Qh5+', 'g6,Qh4,Nxc2+', 'https://lichess.org/training/Cj9Rd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CjAIo', 'Rapid', 'soyed', 1653, 'Anibalfloralia', 1877, 'e4,c6,Bc4,e6,Nc3,Nf6,d3,d5,exd5,exd5,Bb3,Bd6,Bg5,Bf5,Nf3,O-O,O-O,Nbd7,Qd2,Qc7,Ne2,a5,a4,Rfe8,Ng3,Bg4,c4,h6,Be3,dxc4,Bxc4,Re7,Rac1,Rae8,Kh1,Bc5,d4,Bd6,Rfe1,Ne4,Nxe4,Rxe4,h3,Bxf3,gxf3,R4e7,Rg1,Kh7,Qd3+,g6,h4,Nf8,h5,Qd7,Rg4,Rxe3,fxe3,f5,Rg2,g5,Rcg1,Kh8,e4,fxe4,fxe4,Bf4,e5,b5,Bb3,Rxe5,Bc2', 'Re3,Qxe3,Bxe3', 'https://lichess.org/training/CjAIo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CJAM7', 'Rapid', 'KokorevaKatya', 1519, 'Beliaev040208', 1708, 'e4,e5,Bc4,Nc6,Qf3,Qe7,Nc3,Nb4,Kd1,f6,a3,Nc6,d3,g5,g4,h6,h3,d6,Bxg8,Rxg8,Nb5,Nd4,Nxd4,exd4,Ne2,Qd7,Nxd4,c5,Ne2,b5,Qxf6,Rg7,Qxh6,Ba6,Qh8,Rf7,Rg1,b4,Bxg5,b3,cxb3,Bxd3,Nf4,Bxe4,Bh4,Bf3+,Kd2,Rxf4,Ke3,Qf7,Rge1,d5', 'Qe5+,Kd7,Qxf4,Qxf4+,Kxf4', 'https://lichess.org/training/CJAM7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjcWl', 'Blitz', 'naismith91', 1575, 'Vltg3', 1530, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,h3,Bh5,Be2,Nc6,Ng5,Nf6,d3,g6,O-O,h6,Nge4,Bxe2,Qxe2,Nd4,Qd1,Nxe4,Nxe4,O-O-O,Bd2,Qe5,Bc3,e6,Nd2,Bd6,g3,h5,Nf3,Qc5,Bxd4,Qc6,Bxh8,Rxh8,Ng5,Qd7,Qf3,f5,Rfe1,e5,c3,f4,d4,fxg3,dxe5,gxf2+,Qxf2,Be7,e6,Qc6,Qf7,Bc5+,Kf1,Qh1+,Ke2,Qh2+,Kd1', 'Rd8+,Qd7+,Rxd7+,exd7+,Kxd7', 'https://lichess.org/training/cjcWl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cJd7u', 'Bullet', 'Isomorph', 1937, 'cornioo', 1876, 'd4,d5,c4,dxc4,e3,Nc6,Bxc4,e5,Nf3,e4,Nfd2,f5,O-O,Nf6,Nc3,Bd6,f4,Qe7,a3,Be6,d5,Nxd5,Nxd5,Bxd5,Bxd5,Qh4,Bxc6+,bxc6,Qb3,g5,Nc4,Bc5,fxg5,Qxg5,Ne5,O-O-O,Qc4,Bb6,Qa6+,Kb8,Nxc6+,Ka8,a4,Rhg8,g3,Rd6,Qb5,h5,a5,Bxe3+,Bxe3,Qxe3+,Kh1,Rd2,a6', 'Rxh2+,Kxh2,Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/cJd7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cJDbM', 'Rapid', 'HD_Bart', 1678, 'admin_gm', 1806, 'd4,g6,c4,Bg7,Nc3,e6,Nf3,Ne7,Bf4,d5,Nb5,Na6,cxd5,Qxd5,e3,c6,Nd6+,Kf8,Bd3,Nb4,Bc4,Qa5,O-O,Nf5,Nxf5,gxf5,a3,Nd5,b4,Qd8,Bg5,Bf6,Bh6+,Bg7,Bxg7+,Kxg7,Ne5,Qf6,f4,Rg8,Rf3,Kh8,Rh3,Qg7,g3,Nxe3,Qh5,Nxc4', 'Nxf7+,Qxf7,Qxf7', 'https://lichess.org/training/cJDbM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjdjo', 'Rapid', 'DEVIL14', 2188, 'Alexey_Karpov', 2068, 'e4,c6,c4,d5,exd5,cxd5,cxd5,a6,Bc4,Nf6,Nc3,Nbd7,a4,Nb6,Qb3,Qc7,d3,Bg4,Nf3,Bxf3,gxf3,Rc8,Be3,Nxc4,dxc4,Qxc4,Qxb7,Rc7,Qb8+,Rc8,Qf4,Nxd5', 'Qxc4,Rxc4,Nxd5', 'https://lichess.org/training/cjdjo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CjEaA', 'Rapid', 'Mrjack1954', 1675, 'Antecesor', 1697, 'e4,e6,e5,d5,d4,c5,Nf3,Nc6,Bb5,Bd7,O-O,Nxe5,Bxd7+,Nxd7,Nc3,Ne7,Re1,Nf5,dxc5,Bxc5,Bg5,Qb6,Be3,Nxe3,fxe3,Bxe3+,Kh1,Bc5,Nxd5,Qc6,c4,O-O,Nf4,Rfd8,Qc2,Nf6,Ne5,Qc7,Nfd3,Bd4,Rac1,Bxe5,Nxe5,Nd7,Nf3,Nf6,b4,Rd6,c5,Rd5,a4,a5,Ne5,axb4,Qc4,Rxa4,Qb5,Ra5,Qxb4,Rdxc5,Rxc5,Rxc5,Nd3,Nd5', 'Qxc5,Qxc5,Nxc5', 'https://lichess.org/training/CjEaA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cjek4', 'Blitz', 'gazwan86', 1734, 'BaoAnchess', 1631, 'e4,c5,d4,cxd4,Nf3,Nc6,Bc4,Nf6,e5,Ng4,c3,dxc3,O-O,Ngxe5,Bb3,Nxf3+,Qxf3,e6,Nxc3,Bc5,Qg3,Bd4,Ne4,f5,Nd6+,Ke7,Rd1,Be5,Bg5+,Bf6,Bxf6+,Kxf6,Qh4+,Kg6,Qg3+,Kf6,Qc3+,Kg6,Rd3,h6,Rg3+,Kh7,Nf7,Qf8,Nxh8,Qxh8,Rd1,g5,Rgd3,Qxc3,bxc3,Ne5,R3d2,b6,g3,Bb7', 'Rxd7+,Nxd7,Rxd7+,Kg6,Rxb7', 'https://lichess.org/training/Cjek4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CjFl8', 'Blitz', 'SLKAY', 2341, 'grmaraite', 2327, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Bc4,Nc6,Qd2,Bd7,O-O-O,Na5,Bb3,Rb8,h4,b5,Kb1,Nc4,Bxc4,bxc4,Ka1,Re8,h5,Qb6,Rb1,Qa5,hxg6,hxg6,Bh6,Bh8,g4,Rb6,Qh2,e5,Bf8,Kxf8,Qxh8+,Ke7,Qh4,Be6,Nxe6,Kxe6,g5,Nh5,Nd5', 'Qxa2+,Kxa2,Ra6#', 'https://lichess.org/training/CjFl8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjg2S', 'Rapid', 'jozef1234x', 2078, 'pversc', 1789, 'd4,e6,c4,Bb4+,Nc3,Bxc3+,bxc3,f5,g3,Nf6,Bg2,O-O,Nf3,d6,O-O,Ne4,Qb3,b6,Nd2,Bb7,f3,Nxd2,Bxd2,Nd7,e4,Qe8,Rae1,Kh8,Bc1,Qg6,Qb5,Rad8,a4,a6,Qb1,fxe4,fxe4,Rxf1+,Rxf1,Rf8,Rxf8+,Nxf8,a5,Nd7,axb6,c6,Be3,Nf6,Qf1,h5,Bf4,d5,cxd5,cxd5,exd5,Nxd5,Be5,Qe8,c4,Ne3,Qe2,Nxg2,d5,exd5', 'Bxg7+,Kxg7,Qxe8', 'https://lichess.org/training/cjg2S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjgr4', 'Blitz', 'Zloy_diadia', 1874, 'CM Kingscrusher-YouTube', 2441, 'e4,g6,Nf3,Bg7,d4,c5,c3,Nc6,d5,Ne5,Bf4,Nxf3+,Qxf3,d6,c4,Nf6,Nc3,O-O,Bd3,Ng4,O-O,Ne5,Bxe5,Bxe5,h3,f5,exf5,Bxf5,Bxf5,Rxf5,Qe3,Qd7,f4', 'Bd4,Qxd4,cxd4', 'https://lichess.org/training/cjgr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CjIcv', 'Rapid', 'Artur_Sergeevich', 1683, 'luisfigueiredoooo', 1658, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,cxd4,cxd4,Qb6,a3,Nge7,Bd3,a6,Bc2,Bd7,O-O,Nf5,Bxf5,exf5,Nc3,Be6,Ng5,Be7,Nxe6,fxe6,Kh1,O-O,Qh5,g6,Qd1,Nxd4,Be3,Bc5,b4,Nc2,Bxc5,Qc7,Qxc2,Qxe5,Bxf8,Rxf8,Rae1,Qd4,Rxe6,Rc8,Re3,Qc4,Rc1,d4,Nd5,Qxc2,Rxc2,Rxc2,Re1,d3,Rd1,d2,Ne3,Rc1,h4', 'f4,Nc4,Rxd1+', 'https://lichess.org/training/CjIcv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjIGY', 'Rapid', 'Alvaro_Herminio', 1850, 'CoolCalc', 1880, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Be6,Nc3,Bxc4,Qxc4,h6,O-O,Ne7,Rd1,Nc6,f4,Qd7,e5,O-O-O,exd6,Bxd6,Nb5,Kb8,Nxd6,cxd6,Be3,Rhe8,Bc5,Re6,f5,Rf6,g4,Ne5,Qe2,Qc6,Bd4,Nf3+,Kf2,Nxd4,Rxd4,Qb6,Qe4,Qxb2', 'Rb4,Qxb4,Qxb4', 'https://lichess.org/training/cjIGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cJItP', 'Classical', 'OME-2026', 1625, 'prOof91', 1697, 'd4,d5,Nf3,Bg4,c4,Bxf3,gxf3,dxc4,Qa4+,Nc6,Nc3,Qxd4,Bh3,e6,Nb5,Qb6,Be3,Bc5', 'Bxc5,Qxc5,Nxc7+,Kd7,Nxa8', 'https://lichess.org/training/cJItP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cJJEi', 'Rapid', 'JanOrmel', 1728, 'nima115', 1696, 'e4,c6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,g6,Bd3,f6,exf6,exf6,O-O,Bg7,Re1+,Kf8,Bf4,Nb6,Qd2,Kg8,Bh6,Kf7,Bxg7,Kxg7,Re2,Re8,Rae1,Rxe2,Qxe2,Bg4,h3,Bxf3,Qxf3,N8d7,Ne2,Qc7,Nf4,Nf8,h4,Qd7,h5,Re8,Rf1,g5,h6+,Kxh6,Qh5+,Kg7,Ne2,Qf7,Qh3,Nc4,Ng3,Nxb2,Nf5+,Kh8,Nd6,Qd7,Nxe8,Qxe8,Bf5,Nc4,g3,Nd2,Rd1,Nf3+,Kg2,Ne1+,Kf1,Nf3,g4,Nh4,Re1,Qd8,Bd3,Nfg6,Qe3,Nf4,Qe8+,Qxe8,Rxe8+,Kg7,Ra8,a6,Rb8,b5,Ra8,Nxd3,cxd3,Nf3,Rxa6,Nxd4,Ke1,h6,Kd2,Kf7,Kc3,Ne2+,Kb4,Nf4,Kc3,c5,d4,c4,Rb6,Ne2+,Kb4,Nxd4,Rxb5,Nxb5,Kxb5,Ke6,a4,c3,Kb4,d4,Kb3,Ke5,Kc2,Kd5,a5,Kc4,a6,d3+,Kc1,d2+', 'Kc2,Kd5,a7', 'https://lichess.org/training/cJJEi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cjjmf', 'Blitz', 'hendrixmaine', 2189, 'Elnashar', 2109, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,a4,b4,Nce2,Bb7,Ng3,Qc7,Be3,Nf6,Bd3,Be7,O-O,O-O,Kh1,d6,f4,Nbd7,f5,e5,Nde2,Nc5,h3,Ncxe4,Nxe4,Nxe4,Bxe4,Bxe4,Ng3,Bb7,f6,Bxf6,Nh5,Be7,Qg4,g6,Nf6+,Kg7,Bh6+,Kxh6', 'Qh4+,Kg7,Qxh7#', 'https://lichess.org/training/Cjjmf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cJKqC', 'Rapid', 'Herve31', 1809, 'The_Immortal_Femto', 1829, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bd3,Bg7,Be3,O-O,Qe2,Nc6,O-O-O,Nxd4,Bxd4,b6,e5,dxe5,Bxe5,Qe8,Bb5,Bd7,Bxf6,Bxb5,Nxb5,Bxf6,Nc7,Qa4,Nxa8,Rxa8,Rhe1,Qxa2,c3,Qa1+,Kc2,Qa4+,Kc1,Bg5+,Kb1,b5,Qf3,Rc8,Rd7,b4,Rdxe7,Bxe7,Rxe7,Rf8,cxb4,Qxb4,Rxa7,Qe1+,Kc2', 'Rc8+,Kb3,Qe6+', 'https://lichess.org/training/cJKqC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CJl5z', 'Classical', 'Krzysztof8730', 2117, 'thathaasthu', 1875, 'e4,e6,Nf3,Ne7,Nc3,c6,d4,d6,Bg5,Qb6,Rb1,Ng6,Bd3,Be7,Bxe7,Nxe7,O-O,O-O,e5,dxe5,dxe5,Nd7,Re1,Ng6,h4,Qd8,h5,Nh4,Qe2,Nxf3+,Qxf3,Qg5,Qe2,f5,exf6,Nxf6,Ne4,Nxe4,Bxe4,Bd7,Rbd1,Rf7,Rd3,Raf8,Bf3,Qa5,Red1,Bc8,a3,Qb6,b3,a5,a4,h6,R1d2,Rf6,Qe4,Qc5,Qd4,Qg5,Qg4,Qc5,Qe4,e5,Rd8,Bf5,Rxf8+,Rxf8,Qe2,Qc3,Qe3,Qb2,Kh2,e4,Be2,Qf6,Qd4,Qh4+,Kg1,Be6,Bc4,Bxc4,Qxc4+,Kh8,Re2,Rd8,Qxe4', 'Rd1+,Re1,Qxe4', 'https://lichess.org/training/CJl5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CJnkR', 'Blitz', 'Idiosincrasia', 2154, 'WFM Saraswathii', 2159, 'Nf3,d5,c4,c6,d4,Nf6,cxd5,cxd5,Nc3,Nc6,Bg5,h6,Bxf6,exf6,e3,Be6,Bd3,Qd7,Ne2,Bb4+,Nd2,O-O,a3,Bd6,O-O,Rac8,b4,a6,Nb3,Bf5,Rc1,Bxd3,Qxd3,Qe6,Nc5,Bxc5,Rxc5,b6,Rc2,a5,b5,Ne7,Rfc1,Nf5,Nf4,Qd7,Rc6,Ne7,R6c2,Rxc2,Rxc2,Rc8,a4,g6,Rc3,Qd6,Qc2,Rxc3,Qxc3,Kg7,Kf1,g5,Nh5+,Kg6,Ng3,h5,h3,h4,Ne2,Nf5,Qd3,Qb4,g4,hxg3,Nxg3,Qc4,Ke2,Qxd3+,Kxd3,Nxg3,fxg3,Kf5,g4+,Ke6,e4,Kd6,Ke3,Ke6,exd5+,Kxd5,Kd3,Kd6', 'Ke4,Ke6,d5+,Ke7,Kf5', 'https://lichess.org/training/CJnkR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cJNUY', 'Blitz', 'ronengrin', 1755, 'Lemieszewski', 1761, 'e3,e5,d4,exd4,Qxd4,d5,h3,c5,Bb5+,Bd7,Bxd7+,Qxd7,Qd1,Nf6,Nf3,Bd6,O-O,O-O,Nbd2,Re8,b3,Nc6,Bb2,Be5,Nxe5,Nxe5,Nf3,Nxf3+,Qxf3,Re6,Rad1,Rd8,Rd2,d4,exd4,cxd4,Rxd4,Qc7,Rxd8+,Qxd8,Rd1,Qc7,c4,h6,Qc3,Qf4,Rd8+,Kh7,Qc2+,g6,Rd1,Kg7,Qd2,Qf5,Qd7,Re1+,Kh2', 'Qf4+,g3,Qxf2#', 'https://lichess.org/training/cJNUY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CJoMA', 'Blitz', 'WIM strawberry11', 2342, 'lamadestr', 2366, 'd4,Nf6,c4,g6,Nc3,d5,Bf4,Bg7,e3,c5,dxc5,Qa5,Rc1,dxc4,Bxc4,O-O,Nf3,Qxc5,Bb3,Nc6,O-O,Qa5,h3,Bf5,Qe2,Ne4,Nxe4,Bxe4,Rfd1,Qh5,Rd7,Rac8,Rcd1,e6,R1d2,Na5,Bd1,Bc6,Rc7,e5,Rxc8,Rxc8,Nxe5,Bxe5,Qxh5', 'gxh5,Bxe5,Nc4,Rd4,Nxe5', 'https://lichess.org/training/CJoMA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CJOzW', 'Blitz', 'kjeksen', 2362, 'SupremacyBlitz', 2325, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,O-O,O-O,Re1,d6,c3,Na5,Bc2,c5,Nbd2,Kh8,h3,Ng8,d4,cxd4,cxd4,Qc7,Nf1,Nc6,Ng3,Bf6,dxe5,dxe5,Be3,Rd8,Qe2,Be6,Rac1,Bc4,Bd3,Bxd3,Qd2,Qb7,Qc3,Rac8,Qb3,Na5,Qb4,Nc4,Bg5,a5,Qb3,h6,Bxf6,Nxf6,Red1,a4,Qb4,Nxe4,Nxe4,Qxe4,Qxb5,Nd2,Rxc8,Nxf3+,gxf3,Qg6+,Kh2,Bxb5', 'Rdxd8+,Be8,Rxe8+,Kh7,Rh8#', 'https://lichess.org/training/CJOzW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjPbw', 'Blitz', 'jardiwelo', 2067, 'yyrkoon33', 1958, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c4,Nc6,Be3,Nf6,Nc3,O-O,f3,d6,Qd2,Bd7,Be2,Nxd4,Bxd4,a5,g4,Bc6,h4,h5,gxh5,Nxh5,Rg1,Bxd4,Qxd4,e5,Qf2,Nf4,Bf1,Kg7,O-O-O,Rh8,Rh1,Ne6,Ne2,b5,cxb5,Bxb5,Bh3,Bxe2,Qxe2,Nd4,Qe3,Qxh4,Kb1,Qe7,f4,Rab8,fxe5,dxe5,Rdf1,Rb7,Bg4,Rbb8,Bd1,Qb4,Qf2,Qb7', 'Qf6+,Kg8,Rxh8#', 'https://lichess.org/training/cjPbw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjpY7', 'Rapid', 'anstow', 1694, 'greenfrogblue', 1682, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nc3,g6,Bg5,Bg7,Nf3,Nbd7,Bc4,O-O,O-O,c6,Ne2,b5,Bb3,Qb6,c3,Bb7,Qd2,c5,Bh6,Bxf3,Bxg7,Bxe2,Bxf8,Kxf8,Qxe2,Kg7,Qf3,Rc8,Rad1,cxd4,Rxd4,Ne5,Qf4,Ned7,Rfd1', 'e5,Qh4,exd4', 'https://lichess.org/training/cjpY7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjRN5', 'Rapid', 'yuriy1yurich', 1661, 'Ibane', 1671, 'e4,d5,e5,Nc6,d4,e6,Bb5,Bd7,Ba4,Qh4,Be3,Qe7,a3,Qh4,h3,Qe4,Nf3,f6,Nc3,Qg6,Bxc6,Bxc6,O-O,fxe5,Nxe5,Qf6,Nxc6,bxc6,Qg4,Qf5,Qxf5,exf5,Rae1,O-O-O,Bf4,Nf6,f3,Nh5,Be5,Rd7,Na4,Bd6,g4,Bxe5,gxh5,Bxd4+,Kg2,g6,hxg6,hxg6,c3,Bb6,Nxb6+,cxb6,Re6,Rg8,Rxc6+,Kb7,Re6,Rh7,Rfe1,Ka6,Re7,Rh4,Kg3,Rgh8,Rh1,f4+,Kg2,g5,Re5,Rg8,Rxd5,b5,b4,Kb6,Rc5,a5,Re5,axb4,cxb4,Rh5,Re6+,Kc7,Rc1+,Kd7,Re5,Rgh8,Rh1,Kd6,Rxb5,Re8,Rd1+,Kc6,Rc5+,Kb6,Rd6+,Kb7,Rd2,Reh8,Rd7+,Kb8,Rdc7,R8h6,Rc8+,Kb7,R5c7+,Kb6,a4,Rxh3,a5+,Kb5,Rc5+,Kxb4,Rxg5,Rh2+,Kf1,Ra2,Rb8+,Ka4,Rb6', 'Rh1+,Rg1,Ra1+', 'https://lichess.org/training/cjRN5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjStU', 'Rapid', 'nomez74', 1726, 'csekusz', 1689, 'e4,e5,Nf3,Nc6,Bc4,Be7,Qe2,Nf6,Bxf7+,Kxf7,Qc4+,d5,exd5,Nxd5,O-O,Bg4,Qxg4,Rg8,d4,Rf8,dxe5,Kg8,e6,Rf6,Bg5,Rg6,Qf5,Bxg5,Nxg5,Rxg5,Qf7+,Kh8,Nd2,Qd6', 'Ne4,Qe5,Nxg5', 'https://lichess.org/training/cjStU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjTRm', 'Blitz', 'FM JackBauer', 2134, 'kombibi', 1975, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,e5,c3,Nf6,Qe2,Qc6,Re1,Nbd7,d4,cxd4,cxd4,Be7,Nc3,a6,Bg5,h6,Bxf6,Bxf6,Nd5,O-O,Rac1,Qb5,Qxb5,axb5,Rc7,Rfd8,Rxb7,Rxa2,Rxb5,exd4,b4,d3,Rd1,Ra1', 'Nxf6+,Nxf6,Rxa1', 'https://lichess.org/training/cjTRm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjv9M', 'Blitz', 'BW123', 1595, 'Lvov2015', 1840, 'e4,g5,d4,Bg7,e5,c5,c3,Qb6,Nf3,g4,Ng1,cxd4,cxd4,Nc6,Qxg4,Bxe5,dxe5,Nxe5,Qg7,Qf6,Qxf6,Nxf6,Nc3,b6,Be2,Bb7,Bf4,Bxg2,Bxe5,Bxh1,Bxf6,exf6,O-O-O,Rg8,Re1,Rc8,Bf3+,Kd8,Bxh1,Rg5,Nf3,Ra5,Kb1,b5,Nd2,b4,Nd1,Rf5,b3,Rxf2,Nxf2,Rc3,Rc1,Re3,Nc4,Re2,Ng4,f5,Nge3,Rxh2,Bd5,f6,Nxf5,h5,Rh1,Rf2,Rxh5,Kc7,Nd4,Rf1+,Kb2,Rf2+,Nc2,f5,a3,bxa3+,Nxa3,f4,Bc4,Rg2,Rf5,Rg4,Nd4,a5,Nab5+,Kb6,Rf6+,Kc5,Rf5+,Kb4,Nc3,Rg2+,Kc1,Kxc3,Nc2', 'Rg1+,Bf1,Rxf1+,Ne1,Rxe1#', 'https://lichess.org/training/cjv9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CjxH9', 'Rapid', 'Victoriu', 1693, 'THARUN-BS', 1692, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,O-O,d4,exd4,cxd4,Bb4,Bg5,h6,Bh4,Be7,Nc3,Ne8,Bxe7,Nxe7,Nh4,Nc6,Ng6,Nf6,Nxf8,Qxf8,e5,Ne8,f4,d6,Qh5,dxe5,fxe5,Nxd4,Rxf7,Qb4,Rxc7+,Kh7,Bd3+,Nf5,Bxf5+,Bxf5,Qxf5+,Kg8,Qf7+,Kh7,Rf1,Qb6+,Kh1,Nxc7,Ne4,Qb4,Nf6+,Kh8,Nh5,Qg4,h3,Qg5,e6,Nxe6,Rf5,Qc1+,Kh2,Qc7+,g3,Qc2+,Rf2,Qc4,Nxg7', 'Rf8,Qxf8+,Nxf8', 'https://lichess.org/training/CjxH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cjxOf', 'Rapid', 'whitefire', 1860, 'SergeyDorofeev', 1882, 'e4,c5,Nf3,d6,c3,Nf6,e5,dxe5,Nxe5,e6,Bb5+,Bd7,Nxd7,Nbxd7,d4,a6,Bd3,cxd4,cxd4,Nb6,O-O,Qxd4', 'Bb5+,Qd7,Bxd7+', 'https://lichess.org/training/cjxOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ck0An', 'Rapid', 'aayalac', 1765, 'gekterho', 1874, 'e4,e5,d4,exd4,c3,dxc3,Nf3,h6,Bc4,c2,Qxc2,d6,O-O,Be7,Rd1,Bg4,e5,Bxf3,Bxf7+,Kxf7,Qf5+,Ke8,Qxf3,Nc6,e6,Bf6', 'Qh5+,g6,Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/ck0An');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cK3ye', 'Rapid', 'hferrer', 1752, 'Henenker', 1669, 'd4,Nf6,e3,e6,Bd3,c5,c3,d5,f4,Nc6,a3,c4,Bc2,b5,Nf3,a5,O-O,Ne7,Ne5,Nf5,Rf3,Nd7,Rh3,Nxe5,fxe5,f6,exf6,Qxf6,e4,dxe4,Bxe4,Bd6,Bxa8,O-O,Rf3,Qh4,Rh3,Qf6,Be4,Nh6,Bxh6', 'Qf2+,Kh1,Qf1+,Qxf1,Rxf1#', 'https://lichess.org/training/cK3ye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cK4qT', 'Rapid', 'PF1793', 1663, 'aidan_kenan', 1905, 'e4,c5,Bc4,e6,Nc3,Nf6,d3,d5,exd5,exd5,Bb5+,Bd7,Qe2+,Be7,Bxd7+,Qxd7,Nf3,O-O,O-O,Re8,Bg5,Bd6,Qd2,Ng4,h3,Ne5,Nxe5,Bxe5,Rfe1,Nc6,Bf4,Bxf4,Rxe8+,Rxe8,Qxf4,Nd4,Qd2,c4,dxc4,dxc4,Rd1,Rd8,Kh1,Qe7,Re1,Ne6,Qe3,Qb4,b3,cxb3,cxb3,h6,Na4,Rd3,Qe4,Rd4,Qe3,b5,Nc3,Rf4', 'Nd5,Qxe1+,Qxe1', 'https://lichess.org/training/cK4qT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ck6yo', 'Rapid', 'Apricot44N', 2143, 'EMRE-EMRE-EMRE', 1927, 'e4,c5,Nf3,e6,b3,d5,exd5,exd5,Bb2,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Be7,Re1,O-O,Ne5,Qc7,d3,Re8,Nd2,Nc6,Ndf3,d4,Bc1,Nxe5,Rxe5,Bd6,Rxe8+,Rxe8,Bg5,Nd5,Qd2,Bf4,Bxf4,Qxf4,Re1,Re6,Rxe6,fxe6,Qxf4,Nxf4,Ne5,Nd5,Nd7,b6,Ne5,Nb4,a4,Nxc2,Nc6,a5,Nd8,e5,Nc6,Na1,Nxe5,Nxb3,Nd7,Nc1,Nxb6,Nxd3,Nc4,Nf4,Nxa5,d3,Nc4,Kf7,a5,Nd5,a6,Nc7,a7,Ke6,Kf1,Kd5,Ne3+,Kd4,Ke1,c4,Nf5+,Kc3,Nd6,Kd4', 'Nb5+,Nxb5,a8=Q', 'https://lichess.org/training/Ck6yo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ck86V', 'Blitz', 'El_Ultimo_Peon', 1551, 'VictorAlves', 1550, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,c4,Nf6,Nc3,O-O,f3,e6,Qd2,Re8,Bh6,Nxd4,Bxg7,Nxf3+,gxf3,Kxg7,O-O-O,d5,cxd5,exd5,h4,Qc7,Kb1,Bd7,Nxd5,Nxd5,Qxd5,Red8,h5,Rac8,hxg6', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/ck86V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ck8Uw', 'Rapid', 'karsrud', 1752, 'Competidor_Baiano', 1704, 'e4,e5,d4,Nf6,dxe5,Nxe4,Qe2,Nc5,Nf3,Be7,b4,Ne6,a3,O-O,Qe4,f5,Qc4,d5,Qd3,Ng5,Nxg5,Nc6,Nf3,Re8,Be2,Be6,O-O,d4,Bb2,Bd5,Bxd4,Bxf3,Bxf3,Nxd4,Qc4+,Kh8,Rd1', 'Nxf3+,gxf3,Qxd1+', 'https://lichess.org/training/ck8Uw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ck9V0', 'Blitz', 'corossini', 1653, 'giammy', 1746, 'e4,c5,Bb5,a6,Bc4,Nc6,Bd5,Nb4,Bc4,g6,a3,Nc6,Bd5,Bg7,Bxc6,bxc6,c3,d5,d3,f5,f3,fxe4,dxe4,e5,Ne2,d4,c4,Nf6,O-O,O-O,Bg5,Qc7,Bxf6,Bxf6,Qd3,Bg5,Kh1,Rb8,b3,Bf4,Nxf4,Rxf4,Nd2,g5,g3,Rf7,g4,Qd6,Kg2,h5,h3,h4,Rab1,a5,a4,Be6,Rf2,Rbf8,Rb2,Qd7,Qf1,Bxg4,hxg4,h3+,Kxh3,Rh7+,Kg3,Qf7,Rb1', 'Qf4+,Kg2,Qh2#', 'https://lichess.org/training/ck9V0');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 10;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet11 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CKACe', 'Rapid', 'duohdah', 1671, 'ArdaOsman', 1644, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d5,e3,O-O,Be2,Bg4,O-O,Bxf3,Bxf3,c6,cxd5,cxd5,Qb3,Qd7,Nxd5,Nxd5,Bxd5,Nc6,Bf3,Rfd8,Bd2,e5,Bxc6,Qxc6,Bc3,exd4,Bxd4,Bxd4,exd4,Qd5,Qxd5,Rxd5,Rfd1,Rad8,Rac1,Rxd4,Rxd4,Rxd4,f3,Rb4,Rc2,a5,a3,Ra4,Rc7,b5,Rc5,b4,Rc4,Kg7,Kf2', 'bxa3,Rxa4,axb2,Rxa5,b1=Q', 'https://lichess.org/training/CKACe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cKb2T', 'Rapid', 'Utakata_124', 1634, 'Biba-Boba', 1651, 'd4,d5,c4,dxc4,Nc3,Nc6,e3,Nf6,Bxc4,Bf5,f3,e5,Nge2,Bb4,O-O,exd4,exd4,O-O,Re1,Bxc3,bxc3,Qd6,Ng3,Bg6,f4,Rfe8,Rxe8+,Rxe8,f5,Bh5,Nxh5,Nxh5,Bd2,Nf6,Qb3,Ng4,Bxf7+,Kf8,Bxe8,Qxh2+,Kf1,Qh1+,Ke2,Qxg2+,Kd3,Qf3+,Kc2,Qe4+,Kb2,Qxe8,Qxb7,Qe2,Qc8+,Kf7,Qxc7+,Kf6,Qxc6+,Kxf5,Kc2,Ne3+,Kb3,Qxd2,Qd7+,Ke4,Qc6+,Kd3,Qc4+,Ke4,Qe6+,Kd3,Qa6+,Ke4,Ka4', 'Qc2+,Ka5,Qxc3+', 'https://lichess.org/training/cKb2T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CkbUq', 'Blitz', 'gighen99', 1584, 'Sta97', 1678, 'd4,d5,Nf3,c5,e3,e6,Bb5+,Nc6,Bd2,Nf6,O-O,a6,Ba4,b5,Ne5,Nxe5,dxe5,Ne4,Bb3,c4,f3,Nxd2,Nxd2,cxb3,Nxb3,Be7,f4,O-O,Rf3,a5,Rg3,f6,Qg4,Rf7,exf6,Bxf6,Nd4,Qb6,Rd1,e5,Nf5,Kf8,Rxd5,Qe6,e4,g6,h3,gxf5', 'Qg8+,Ke7,Qd8#', 'https://lichess.org/training/CkbUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ckC4u', 'Rapid', 'kasapi1', 2138, 'rajaswagle', 1993, 'e4,g6,f4,Bg7,Nf3,c5,c3,Nc6,Bc4,e6,O-O,Nge7,d4,cxd4,cxd4,d5,exd5,Nxd5,Nc3,Nb6,Bb5,O-O,Bxc6,bxc6,Ne4,Ba6,Re1,Nd5,Ne5,Rc8,a3,Qb6,Nd7,Qc7,Nxf8,Rxf8,Nc5,Bc8,Qf3', 'Bxd4+,Kh1,Bxc5', 'https://lichess.org/training/ckC4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ckCA2', 'Blitz', 'GM rasulovvugar', 2613, 'Doa79', 2383, 'e4,e6,d4,d5,Nd2,c5,exd5,Qxd5,Ngf3,cxd4,Bc4,Qd6,O-O,Nf6,Nb3,Nc6,Nbxd4,Nxd4,Nxd4,Bd7,Bg5,O-O-O,c3,Qc7,Qe2,Bd6,h3,h6,Be3,e5,Nb5,Bxb5,Bxb5,Bc5,Rad1,e4,Ba4,Bb6,Bb3,Rxd1,Rxd1,Rd8,Rxd8+,Kxd8,Bxb6,axb6,Qe3,Ke7,Qd4,Qc5,Qd2,g5,Qe2,Kf8,Kf1,Qe5,Qc4,Qe7,Ke2,Kg7,Qd4,Kg6,Qxb6,Kg7,Qd4,Kg6,Ke3,Kg7,Bd5,Qd6,Bxe4,Qf4+,Kd3,Qc1,f3,Qxb2,g4,Qxa2,Bf5,Qb1+,Kc4,b5+,Kc5,Qf1,Kd6,Qxf3,Qe5,Qd1+', 'Ke7,Qd5,Qxf6+', 'https://lichess.org/training/ckCA2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ckCBX', 'Rapid', 'alancorintiano10', 2038, 'TenAndOnly10', 1935, 'd4,d5,Nf3,b6,Bf4,Bb7,Nbd2,e6,e3,h6,Be2,Bd6,Bxd6,Qxd6,O-O,Ne7,Rc1,Nd7,c4,c6,Re1,O-O,cxd5,cxd5,Bd3,Rac8,e4,dxe4,Bxe4,Bxe4,Nxe4,Rxc1,Qxc1,Qd5,a3,Rc8,Qf4,Ng6,Qg3,Rc2,h4,Rxb2,h5,Ne7,Ne5,Nxe5', 'Nf6+,Kf8,Nxd5', 'https://lichess.org/training/ckCBX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cKCh9', 'Rapid', 'blexim', 1686, 'kidlolo', 1898, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,a6,Nc3,Nf6,Bg5,Be7,Bd3,d6,Qd2,Bg4,f3,Be6,h4,b5,g4,d5,Bxf6,Bxf6,exd5,Bxd5,O-O-O,Bxb3,axb3,Nd4,Be4,Rc8,Nd5', 'Nxb3+,Kb1,Nxd2+', 'https://lichess.org/training/cKCh9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ckcJa', 'Rapid', 'jamasp', 1940, 'arend2', 2031, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,d4,c5,Bc4+,d5,exd5,Bd6,dxc5,Qa5+,Bd2,Qxc5,Bb3,Re8+,Be3,Bg4,Qd3,Nbd7,O-O,Qc7,h3,Bh5,Nc3,a6,f4,Rxe3,Qf5,Bg6,Qg5,Ne4,Nxe4,Bxe4,f5,Rg3,Qh5+,Kg8,Rf2,Bc5,d6+,Kh8,dxc7,Rxg2+,Kf1,Rxf2+,Ke1,Nf6,Qf7,Re8', 'Qxe8+,Nxe8,c8=Q', 'https://lichess.org/training/ckcJa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ckCuO', 'Rapid', 'abm-1302', 1686, 'Pavel1960', 1843, 'e4,e6,d3,d5,Nc3,dxe4,Nxe4,h6,Be3,Nf6,Nc3,Bb4,Nf3,O-O,Be2,Nd5,Bd2,Qe7,Qc1,Nc6,g3,Bd7,h4,Nxc3,bxc3,Bd6,d4,Qf6,Be3,Ne7,g4,Qg6,h5,Qxg4,Ne5,Qg2', 'Bf3,Qxf3,Nxf3', 'https://lichess.org/training/ckCuO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cKDFC', 'Rapid', 'arad89', 1701, 'Turk00000', 1718, 'd4,e5,d5,Nf6,Nc3,Bb4,Bd2,b6,a3,Bxc3,Bxc3,Bb7,Bxe5,Nxd5,Bxg7,Rg8,Bd4,d6,Qd3,Nd7,Qxh7,Rf8,Bg7,Qe7,Bxf8,Nxf8,Nf3,O-O-O,Qf5+,Kb8,Ng5,f6,Ne4,Nd7,f3', 'Ne3,Qf4,Nxc2+', 'https://lichess.org/training/cKDFC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CkDFx', 'Rapid', 'sharad1', 2071, 'MacTony', 2017, 'e4,e5,Nf3,d6,Bc4,Nc6,O-O,h6,c3,Bg4,d4,Be7,Qb3,Bxf3,Bxf7+,Kf8,Bg6,d5,gxf3,exd4,Qxd5,Qxd5,exd5,Ne5,Be4,dxc3,Nxc3,Nf6,Be3,Kf7,Rfd1,Bd6,a3,a5,Nb5,g5,Rac1,Rac8,Bd4,Rhe8,Bf5,Nxf3+,Kg2', 'Nh4+,Kf1,Nxf5', 'https://lichess.org/training/CkDFx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CkDpk', 'Blitz', 'ErdemErturk', 1593, 'T3RK', 1581, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,e6,Nf3,Nbd7,cxd5,cxd5,e3,a6,Bd3,Bb4,O-O,O-O,a3,Ba5,b4,Bc7,Qc2,Bxf4,exf4,Re8,Ne5,Nf8,g4,Ng6,Nxg6,fxg6,g5,Nh5,Ne2,b5', 'Bxg6,hxg6,Qxg6,Nxf4,Nxf4', 'https://lichess.org/training/CkDpk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ckfJw', 'Rapid', 'oquzlar', 2073, 'Justlikemusic', 2166, 'e4,d6,c4,Nf6,d3,e5,Nc3,Be7,f4,c6,Nf3,Nbd7,Be2,Qb6,Na4,Qc7,O-O,d5,fxe5,Nxe5,Nxe5,Qxe5,cxd5,cxd5,exd5,Bd6,Bf4', 'Qd4+,Kh1,Bxf4', 'https://lichess.org/training/ckfJw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CkhVV', 'Rapid', 'EBI76', 1908, 'M_Hariom', 1786, 'd4,d5,Bf4,c6,e3,e6,Bd3,Nf6,Nf3,Nbd7,O-O,Be7,a3,O-O,Nbd2,a6,Rc1,c5,c3,b5,b4,cxd4,cxd4,Bb7,Bc7,Qe8,Ba5,Rc8,Qe2,Ne4,Nb3,Ndf6,Ne5,Nd6,Rc2,Nc4,Bxc4,dxc4,Nc5,Bxc5,dxc5,Nd7,Nxd7,Qxd7,Rd1,Qc6,f3,h6,Rd6,Qe8,Rcd2,f5,Qd1,Qg6,Kh1,Bd5,Rxa6,e5,Rd6,Bxf3,Rxg6,Bxd1,Rxd1,f4,exf4,exf4,h3,Rce8,Bc7,Re3,Rd7,Rf7,Rd8+,Kh7,Rgd6,Rxc7,R8d7,Rxd7,Rxd7,Rxa3,c6,c3,c7,Ra8', 'Rd8,c2,c8=Q,c1=R+,Qxc1', 'https://lichess.org/training/CkhVV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ckJ7e', 'Blitz', 'zappitrone', 1824, 'victor9985', 1770, 'e4,g6,Nf3,Bg7,Bc4,b6,O-O,Bb7,d3,Nf6,Ng5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,Bg5,Kg8,Bxf6,Bxf6,Nc3,d6,f4,Nd7,f5,Qe8,fxg6,Qxg6,Kh1,Kh8,Qe2,Rg8,Rf2,Bd4,Rf3,Ne5,Rg3,Ng4,Rf1,h5,h3,Nf2+,Rxf2,Qxg3', 'Qxh5+,Kg7,Rf7#', 'https://lichess.org/training/ckJ7e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CkJBn', 'Rapid', 'Alkhateeb', 1918, 'yasar11kocas', 1913, 'e4,d5,exd5,Qxd5,d4,Nf6,c4,Qa5+,Bd2,Qb6,Bc3,c6,Nf3,Bg4,Be2,e6,O-O,Nbd7,Nbd2,Be7,b4,O-O,a3,Qc7,h3,Bh5,Qc2,Rad8,Rac1,Bg6,Bd3,Bxd3,Qxd3,Bd6,Rfe1,Bf4,Rc2,c5,d5,exd5,cxd5,Rfe8,Rxe8+,Rxe8,bxc5,Nxc5,Qf5,b6,Bxf6,gxf6,Qxf6,Be5,Nxe5,Rxe5,Nf3,Rxd5,Re2,Rd1+,Ne1,Ne6,Re3,Qf4,Qc3,h5,Rg3+,Kh7', 'Qc2+,Kh6,Qxd1', 'https://lichess.org/training/CkJBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CKjKk', 'Blitz', 'ds916', 1697, 'DrGabix', 2232, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Bc4,Nc6,Qd2,Ne5,Bb3,Bd7,g4,Qa5,h4,Rfc8,h5,Nc4,Bxc4,Rxc4,hxg6,hxg6,Bh6,Bh8,Qh2,Nxg4,fxg4,Bxd4,Bd2,Qe5', 'Qh7+,Kf8,Bh6+,Ke8,Qg8#', 'https://lichess.org/training/CKjKk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cklvy', 'Rapid', 'cobraabro', 1971, 'CAPmaster', 1993, 'e4,c5,Nc3,e6,g3,Nc6,Bg2,g6,Nh3,Bg7,f4,f5,O-O,d6,d3,Nf6,Ne2,O-O,c3,d5,exd5,exd5,Qb3,Kh8,Ng5,h6,Nf3,b6,Ne5,Nxe5,fxe5,Ng4,Bxd5,Rb8,d4,h5,h4,Bb7,Nf4,Bxd5,Nxg6+,Kg8', 'Qxd5+,Qxd5,Ne7+,Kf7,Nxd5', 'https://lichess.org/training/cklvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CKmEe', 'Blitz', 'cheenko', 2382, 'norba94', 2289, 'Nc3,c5,e4,e6,Nf3,a6,d4,cxd4,Nxd4,Qc7,Bd3,Nc6,Nxc6,bxc6,O-O,Nf6,h3,e5,Bg5,Be7,Ne2,O-O,Ng3,d6,Kh1,Be6,f4,exf4,Bxf4,Nd7,Qh5,Ne5,Bxe5,dxe5,Nf5,Bxf5,exf5,f6,Bc4+,Kh8,Rae1,a5,Re4,Rad8', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/CKmEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CkmIK', 'Blitz', 'IM MPGM', 2499, 'AnonymousSkywalker', 2405, 'd4,Nf6,Nf3,e6,c4,Bb4+,Nbd2,O-O,a3,Be7,e4,d6,Be2,Nfd7,b4,e5,d5,a5,Bb2,c6,O-O,cxd5,cxd5,Na6,Bc3,axb4,axb4,Nb6,b5,Nc5,Rxa8,Nxa8,Qc2,f5,Ra1,fxe4,Nxe4,Bf5,Nfd2,Nc7,b6,Nxe4,Nxe4,Ne8,Rb1,Kh8,Bd3,Bg6,Ng3,Bxd3,Qxd3,Nf6,Bd2,Qd7,Rc1,Bd8,Be3,Ng4,Ne4,Nxe3,Qxe3,h6,Ra1,Qb5,Nxd6,Bxb6', 'Nxb5,Bxe3,fxe3', 'https://lichess.org/training/CkmIK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cKmMX', 'Rapid', 'SingleResponsibility', 1732, 'nabiloo2017', 1704, 'e4,c5,a3,Nc6,b4,e6,Nf3,Nf6,e5,Nd5,bxc5,Bxc5,d4,Bb6,c3,Ba5,Bd2,O-O,Bd3,d6,exd6,Qxd6,O-O,Nf4,Bxf4,Qxf4,Re1,Bc7,Re4,Qh6', 'Rh4,Qxh4,Nxh4', 'https://lichess.org/training/cKmMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cko1o', 'Blitz', 'ZakkPL', 1606, 'JohanSan', 1596, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Qf6,Nxh8,Bc5,O-O,Be6,Bxd5,Bxd5,Qh5+,g6,Qxh7,O-O-O,Nc3,Rxh8,Nxd5,Qd8,Qf7,Nd4,c3,Rf8,Qxc7+,Qxc7,Nxc7,Ne2+,Kh1,Kxc7,f3', 'Ng3+,hxg3,Rh8#', 'https://lichess.org/training/cko1o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cKO7U', 'Rapid', 'austria59', 1829, 'Radek-M', 1791, 'e4,e6,Nf3,d5,e5,c5,d4,cxd4,Nxd4,Ne7,Bg5,Qb6,b3,Nbc6,Be3,Nxd4,Bxd4,Qa5+,c3,Nf5,b4,Qc7,Bd3,Nxd4,cxd4,Bxb4+,Nd2,O-O,O-O,f6,Rc1,Qd7,Nf3,fxe5,Nxe5,Qe7,Qh5,g6,Qh3,Bd2,Rc2,Bf4,Ng4,e5,dxe5,Bxe5,Re2,Qg5,Rxe5,Qxe5,Nxe5,Bxh3,gxh3,Rfe8,f4,Rac8,Kg2,g5,Kg3,gxf4+,Kxf4,Rf8+,Bf5', 'Rxf5+,Kxf5,Rf8+', 'https://lichess.org/training/cKO7U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CkOwO', 'Blitz', 'movonrawietz', 2453, 'IM testviking', 2644, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,b5,Bg5,Be7,O-O,Qb6,Qf3,Qxd4,e5,Qa7', 'exf6,gxf6,Bxf6', 'https://lichess.org/training/CkOwO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CKQ3g', 'Rapid', 'vladimir2013', 1749, 'Mr_Mojo', 1628, 'e4,c5,d3,e6,Nf3,d6,c3,Nf6,Bg5,Nbd7,h3,Be7,Nbd2,O-O,Be2,h6,Bh4,Qc7,O-O,b6,d4,Bb7,e5,dxe5,dxe5,Nxe5,Nxe5,Qxe5,Bf3,Rab8,Bxb7,Rxb7,Qf3,Rbb8,Rfe1,Qf5', 'Qxf5,exf5,Rxe7', 'https://lichess.org/training/CKQ3g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ckQEU', 'Classical', 'trixher', 1633, 'jenspetermann', 1690, 'e3,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,g4,d5,Bb5,Qd7,h3,a6', 'Qxf6,axb5,Qxh8', 'https://lichess.org/training/ckQEU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ckqPQ', 'Blitz', 'Kentster', 2085, 'Moath-white', 2027, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,d5,e5,Nd7,Qe2,e6,O-O,Be7,f4,O-O,f5,exf5,Bxf5,a5,Re1,Nc5,Qg4,Bxf5,Qxf5,Ne4,Be3,Bc5,Bxc5,Nxc5,Nc3,Qb6,Kh1,Qxb2,Ne2,Ne4,Nf4,Qxc2,Kg1,Qf2+,Kh1,Rab8,Re2,Qd4,Rf1,Rb2,Rxb2,Qxb2,e6,Qd4,exf7+,Rxf7,Qc8+,Rf8,Qe6+,Kh8', 'Ng6+,hxg6,Rxf8+,Kh7,Qh3#', 'https://lichess.org/training/ckqPQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CKSV7', 'Blitz', 'nika20062313', 2108, 'FM SF-46', 2581, 'Nf3,Nf6,d3,g6,Nbd2,Bg7,e4,O-O,Be2,d5,O-O,dxe4,dxe4,Nc6,c3,e5,Qc2,Re8,h3,Qe7,Re1,h6,Bf1,a5,Nc4,Nd7,Be3,b5,Ncd2,a4,Bxb5,Bb7,Rad1,Nc5,b4,axb3,axb3,Ne6,Nc4,Nf4,Ra1,Rxa1,Rxa1,Rd8,Rd1,Ra8,Ne1,Qe6,Nd3,Nxd3,Qxd3,Ne7,Qd7,Bxe4,Qxe6,fxe6,Rd7,Nd5,Bc6', 'Ra1+,Kh2,Nxe3,fxe3,Bxc6', 'https://lichess.org/training/CKSV7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cKWmP', 'Blitz', 'timothyskog', 1935, 'alexplayschess5', 2018, 'd4,f5,c4,g6,Nc3,Bg7,Nf3,Nc6,Bg5,h6,Bf4,d6,a3,Nf6,h4,Bd7,e3,e6,Be2,O-O,Nd2,Ne7,h5,g5,Bh2,c5,Bxd6,cxd4,exd4,Bc6,Bxe7,Qxe7,Bf3,Bxf3,Nxf3,Nd7,O-O,Qf7,Nd2,Bxd4,Nb3,Bb6,Nb5,Nc5,Nd6,Qg7,Nxc5,Bxc5,Nxb7,Qxb7,b4,Be7,Qb3,Bf6,Rac1,Kg7,c5,Qf7,Rfe1,Rfe8,Re3,e5,Qd3,g4,Qxf5,Bg5,Qxg4,Kh7,Rf3,Qd5,Qf5+,Kh8,Rd3,Qe6,Qxe6,Rxe6,Re1,Rae8,a4,e4,Rd7,R6e7,Rd6,e3,f3,e2,Kf2,Bh4+', 'g3,Bg5,f4,Bxf4,gxf4', 'https://lichess.org/training/cKWmP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CKXBL', 'Rapid', 'frarossi90', 1814, 'Nair1044', 1893, 'e4,e5,f4,exf4,Nf3,Bc5,d3,h6,Bxf4,d6,d4,Bb6,Bc4,Qf6,Be3,Bg4,O-O,Qg6,Qd3,Bxf3,Rxf3,f6,e5,Qxd3,Bxd3,dxe5,dxe5,Bxe3+,Rxe3,fxe5,Rxe5+,Ne7,Bg6+,Kd7,Bh5,Nbc6,Bg4+,Kd6,Re6+,Kc5,Nd2,b5,Ne4+,Kb6,Rd1,Rad8,Rxd8,Rxd8,b3,Nd5,c4,bxc4,bxc4,Ne3,c5+,Kb7,Bf3,Nd4,Nc3+,Nxf3+,gxf3,Nd5,Nxd5,Rxd5,c6+,Kb6,Rg6', 'Rg5+,Rxg5,hxg5', 'https://lichess.org/training/CKXBL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ckxFf', 'Rapid', 'tererodriguez', 1648, 'pablo_cerrillos', 1672, 'd4,d5,Bf4,Nc6,e3,e6,Nf3,Bd6,Ne5,Nf6,c3,O-O,Bd3,Bxe5,dxe5,Nd7,Nd2,Ncxe5,Bxe5,Nxe5,Bc2,Qg5,O-O,h5', 'f4,Qh6,fxe5', 'https://lichess.org/training/ckxFf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CkZKu', 'Rapid', 'WormBoy', 1967, 'RahmanBaisariev', 1941, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,h3,Bf5,Bb5,a6,Bxc6+,bxc6,Ne5,Qc8,Qf3,e6,g4,Bg6,h4,Nf6,g5,Be4,Qf4,Bxh1,gxf6,g6,Nd2,c5,c3,cxd4,Qxd4,Bd6,Qa4+,Kf8,Nd7+,Kg8,Nb6,Qb7,Nxa8,Qxa8,f3,Be5,Nf1,Bxf3,Bg5,h6,Nd2,Bh5,Be3,Bxf6,Nb3,Bxh4+,Kd2,Bf6,Nc5,Kg7,Qd7,Qc8', 'Nxe6+,Kg8,Qxc8+', 'https://lichess.org/training/CkZKu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CKzS9', 'Classical', 'Amirali1389', 1686, 'Andriy_Kulik', 1757, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bc5,Nxc6,dxc6,Qxd8+,Kxd8,Bg5,Be7,O-O-O+,Ke8,Bc4,Ng4,Bxe7,Kxe7,Rdf1,Rd8,f3,Ne3,b3,Nxf1,Rxf1,Be6,Bd3,Rd6,e5,Rd4,f4,h6,f5,Bd5,Re1,Bxg2,f6+,gxf6,Ne2,Rd7,Bf5,Rd5,exf6+,Kxf6,Bd3,Re8,Rg1,Rxd3,Rxg2,Rde3,Rf2+,Kg7,Nf4,Kh7,Rg2,Rd8,Nh5,Rg8', 'Nf6+,Kh8,Rxg8#', 'https://lichess.org/training/CKzS9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CL00K', 'Blitz', 'Pollogam', 1631, 'LightSword', 1622, 'e4,e5,f4,Nc6,Nf3,d6,d4,Bg4,fxe5,dxe5,d5,Nd4,c3,Nxf3+,gxf3,Bh5,Be3,Nf6,Bb5+,c6,dxc6,Qxd1+,Kxd1,O-O-O+,Kc2,Bxf3,cxb7+,Kxb7,Rf1,Bxe4+,Kb3,Nd5,Bg1,Rb8,Rxf7+,Kc8,Kc4,Nb6+,Kb3,a6,Bxa6+,Kd8,Nd2,Nd5+,Ka4,Bc2+,b3', 'Nxc3+,Ka5,Bb4#', 'https://lichess.org/training/CL00K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cL0zW', 'Rapid', 'Geevos', 1945, 'bigkahuna_burger', 1948, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,g6,e5,Nh5,e6,Bg7,exf7+,Kxf7,Bc4+,e6,Qd3,Rf8,Bd2,Kg8,O-O-O,Kh8,g4,Nf6,f3,a6,Kb1,b5,Bb3,Bb7,Ne4,d5,Nxf6,Bxf6,Bc3,b4,Bxf6+,Qxf6,Rhf1,a5,c3,a4,Bc2,Ba6,Qe3,bxc3,Qxc3,Qxc3,bxc3,Bxf1,Rxf1,a3,Bb3,Rac8,Kc2,Rf4,Kd3,Rd8,Ke3,Rdf8,Rf2,Kg7,Bc2,Rc4,Kd3,Rfc8,Bb3,Rxc3+,Kd4,Kf6,h4,h6,f4,Rh3,g5+,hxg5,fxg5+,Ke7,Rf4,Rcc3,Rf6,Rcd3+,Kc5,Rxh4,Rxg6,Rc3+,Kb5,Rg4,Rg7+,Kd6,g6,Rcg3,Rg8,Rxg6,Rd8+,Kc7,Re8,Kb7,Re7+,Kc8,Kc6,Rxb3', 'Re8#', 'https://lichess.org/training/cL0zW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cl0zy', 'Blitz', 'FM Weetik', 2454, 'rogova88', 1894, 'd4,g6,e4,Bg7,Nc3,d6,Nf3,c6,a4,Nf6,Be2,O-O,h3,a6,a5,b5,axb6,Qxb6,O-O,Bb7,Re1,c5,d5,Qb4,Nd2,Nbd7,Nc4,Nb6,Na5,Bc8,Nc6,Nbxd5,Nxd5,Qb7,Ncxe7+,Kh8,Bf3,Nxd5,Nxd5,Be6,c3,a5,Qc2,Rfe8,Bf4,Kg8,Bxd6,Rad8,Bxc5,Qb5,Be3,Bxd5,exd5,Rb8,c4,Qb4,c5,Bxb2,Ra4,Qxe1+,Kh2,Be5+,Bf4,Bxf4+,Rxf4,Qe5,g3,Rb2,Qc4,Rxf2+,Bg2,Rxf4,gxf4,Qb2,d6,Re2,Qd5,Rd2,Qe4,Re2,Qa8+,Kg7,d7,Qd2,d8=Q,Qxf4+,Kg1,Qf2+,Kh1', 'Re1+,Kh2,Qf4#', 'https://lichess.org/training/cl0zy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cL1EL', 'Rapid', 'ajitdengle', 1774, 'dryogesh', 1660, 'e4,b6,Bc4,Bb7,d3,e6,a3,Nf6,Nc3,a6,Nf3,d6,h3,Be7,Ng5,d5,exd5,exd5,Bb3,O-O,Qf3,c6,Bd2,Nbd7,O-O-O,Ne5,Qg3,Ng6,h4,Bd6,f4,Qc7,Rdf1,Nh5,Qg4,Nhxf4,h5,Bc8,Qf3,Ne5,Qg3,Ne6,Nxe6,Bxe6,h6,g6,Qf2,Bf5,Qh4,Be7,Bg5,Bxg5+,Qxg5,Qd8', 'Rxf5,Qxg5+,Rxg5', 'https://lichess.org/training/cL1EL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cl1Ht', 'Rapid', 'jafar-mohammadi', 1923, 'test123456789', 2392, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Bxc6,dxc6,Rxe5+,Be7,Qe2,Nf5,d4,Be6,c3,O-O,Rxe6,fxe6,Qxe6+,Kh8,Ne5,Nd6,Nd2,Rf6,Qb3,Qe8,Ndf3,Qg8,Qc2,Nf7,Bd2,Nxe5,Nxe5,Bd6,f4,Re8,Re1,Rfe6,Qf5,Rf6,Qc2,c5,Qa4,c6,Qxa7,cxd4,cxd4,Ra8,Qxb7,Rb8,Qd7,Rxb2,Bc3,Rxa2,d5,cxd5,Nd3,Bf8,Bxf6,gxf6,Re8', 'Qxg2#', 'https://lichess.org/training/cl1Ht');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cl1od', 'Rapid', 'oldlamb', 1949, 'Saian_SR', 1954, 'e4,c6,d4,d5,e5,e6,Nf3,h6,c3,a5,a3,b6,b3,Ne7,Bb2,Nd7,Bd3,Ra7,O-O,Ba6,c4,a4,Nbd2,axb3,Qxb3,Bxc4,Bxc4,dxc4,Nxc4,Nc8,Rfd1,h5,h4,b5,Ne3,Ncb6,Ng5,Na4,Bc1,Nb8,g3,Rb7,Nc4,Qd5,Na5,Qxb3,Nxb3,Rd7,Be3,Nc3,Rd2,Nd5,a4,Be7,Ne4,O-O,a5,Na6,Rc2,Rc7,Nbc5,Nxc5,Nxc5,Bxc5,Rxc5,Rfc8,Kf1,b4,a6,Kf8,a7,Ra8,Rca5,Kg8,Bc1,Rd7,Bb2,Kf8,Ra6,Rc7,Ke2,Ke7,f4,Kd7,Kd3,Rcc8,Kc4,g6,Kc5,b3,Re1,Rc7,Rea1,Ke7,Ba3,Raxa7,Rxa7,Rxa7,Kxc6+,Kd8,Bb2,Nb4+,Kd6,Rc7', 'Ra8+,Rc8,Rxc8+,Kxc8,Ke7', 'https://lichess.org/training/cl1od');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cL1pz', 'Rapid', 'rodolfocariaga', 2002, 'jorge8910', 1885, 'e4,e5,Bc4,Nf6,Nc3,Nc6,Nge2,Bc5,O-O,O-O,d3,h6,a3,Nd4,Ng3,c6,f4,d5,fxe5,Nxe4,Ncxe4,dxe4,Nxe4,Nb3+,Nxc5,Nxc5,b4', 'Qd4+,Kh1,Qxa1', 'https://lichess.org/training/cL1pz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cl1Vd', 'Rapid', 'toprak16', 1770, 'BlackCat700', 1736, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Qf3,Qxf3,Nxf3,Nc6,Bb5,Bd7,d3,a6,Ba4,Nb4,Bd2,Bxa4,Bxb4,Bxc2,Rc1,Bxd3,Rxc7,Be4,Nh4,g5,f3,Bd3,Kd2,Rd8,Ke3,gxh4,Rd1,Bh6+,Kf2,Bg5,Rxb7,Bb5', 'Rxd8+,Kxd8,Rb8+,Kd7,Rxh8', 'https://lichess.org/training/cl1Vd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cL3gE', 'Classical', 'nettysek', 1952, 'Greece1995', 1921, 'd4,d5,Bf4,Bf5,e3,e6,Bd3,Bd6,Bxf5,Bxf4,Bxe6,fxe6,exf4,Qd6,Qd2,Nc6,Nc3,Nf6,Nb5,Qe7,f3,a6,Nc3,O-O-O,Nge2,Nd7,O-O,Rdf8,a3,h6,b4,g5,b5,axb5,Nxb5,gxf4,Nxf4,Qg5,g3,Rhg8,Kh1,h5,Qe2,Nd8,Nh3,Qf5,Nf4,Qg5,Nh3,Qf6,Rab1,c6,Nd6+,Kc7,Nxb7,Nxb7,Qa6,Rb8,Nf4,h4,Rfe1,Rge8,Kg2,hxg3,hxg3,e5,dxe5,Rxe5,Red1,Ndc5,Nxd5+,Rxd5,Qb6+,Kd6,Rxd5+,Kxd5,Rd1+,Ke6,Re1+,Kf5,Qc7,Rd8,Qf4+,Kg6,Qg4+,Kf7,Qh5+,Kf8,Re5,Nd6,Rxc5,Nf7,Rf5,Qe6,Qh8+,Ke7,Qh4+,Ke8,Qg4,Rd2+,Kh3,Rd5,Rxd5,Qxd5,c4,Qc5,Qe4+,Ne5', 'f4,Qxc4,Qxe5+', 'https://lichess.org/training/cL3gE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CL73l', 'Rapid', 'Pericones', 1707, 'EevilBob', 1830, 'c4,e5,Nc3,Nc6,g3,f5,d3,Bc5,e3,Nf6,Bg2,O-O,Nge2,f4,exf4,exf4,Bxf4,Bxf2+,Kxf2,g5,Bd2,Ng4+,Ke1,Nf2,Qc2,Nxh1,Bxh1,Qf6,Bg2', 'Qf2+,Kd1,Qxg2', 'https://lichess.org/training/CL73l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cL8Qb', 'Classical', 'maxvirga', 1833, 'DanzoRazor', 1841, 'd4,d5,e3,Bf5,Bd3,Bg6,f4,e6,Nf3,Nf6,Nbd2,Bd6,Ne5,Bxd3,cxd3,O-O,O-O,c5,dxc5,Bxc5,d4,Bb6,Qf3,Nc6,a3,Rc8,Qh3,Qd6,g4,Nd7,Kh1,f6,Nxd7,Qxd7,Nf3,Rce8,Bd2,e5,dxe5,fxe5,f5,d4,Ng5,h6,Ne6,Rf7,e4,Nd8,Nxd8,Qxd8,Rad1,Qf6,Qh5,Qc6,Rfe1,Qc2,g5,hxg5,Bxg5,Bd8,Rd2,Qc6,Rg2,Bxg5,Qxg5,Rc8,Rg3,Qc2,f6,Qc7,Rh3,Rxf6,Rg1,Qf7,Qh4,Kf8,Qg5,Re8', 'Rh8+,Ke7,Qxe5+', 'https://lichess.org/training/cL8Qb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cl939', 'Rapid', 'ashna81', 1700, 'nitxcool', 1733, 'd4,g6,c4,Bg7,Nc3,d6,e4,e5,dxe5,Bxe5,Nf3,Bg7,Bd3,Nf6,O-O,O-O,Nd5,Bg4,h3,Be6,Nxf6+,Bxf6,Rb1,c5,Bh6,Bg7,Bxg7,Kxg7,Ng5,Qxg5,f4,Qe7,f5,gxf5,exf5,Bd7', 'f6+,Qxf6,Rxf6', 'https://lichess.org/training/cl939');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('clb4H', 'Classical', 'jurgisj', 1902, 'Attikus', 1846, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qd8,Nf3,Nc6,e4,Bg4,d5,Ne5,Be2,Bxf3,Bxf3,e6,Be2,exd5,exd5,Bb4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/clb4H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLBcm', 'Rapid', 'Yamalol', 1868, 'milad196', 1835, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,O-O,Nf6,Re1,h6,h3,a6,Bf1,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5+,Be6,c4,Ne7,d5,Bd7,c5,f6,Re4,Bf5,Re2,Kf7,d6,cxd6,cxd6,Nc6,Qd5+,Kg6,h4,Qxd6', 'h5+,Kh7,Qxf5+', 'https://lichess.org/training/CLBcm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLcBW', 'Blitz', 'bobbyfischer2400', 2215, 'NM CheKarloz', 2288, 'e4,e6,d3,d5,Nd2,Nf6,g3,Be7,Bg2,O-O,Ngf3,c5,O-O,Nc6,Re1,Rb8,e5,Nd7,Nf1,b5,c3,b4,Bf4,c4,d4,bxc3,bxc3,Rb2,h4,Qb6,N1h2,Qb5,Ng5,Bxg5,hxg5,Ne7,Qh5,Rd8,Ng4,Nf8,Nf6+,Kh8,Qxf7,Nfg6,Bh3', 'Rf8,Qxf8+,Nxf8', 'https://lichess.org/training/CLcBW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('clcE8', 'Rapid', 'aria41', 1873, 'kvasura', 1800, 'f4,c5,Nf3,Nc6,c4,e6,e3,Nf6,Nc3,a6,Be2,d5,cxd5,exd5,d4,Be6,O-O,cxd4,exd4,Bd6,Ne5,O-O,a3,Bf5,Bf3,Be4,Re1,Bxf3,Qxf3,Nxd4,Qd1,Ne6,Nxd5,Nxd5,Qxd5,Bxe5,Qxe5,Qb6+,Kh1,g6,b4,Qf2', 'Bb2,Qxb2,Qxb2', 'https://lichess.org/training/clcE8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cLCeh', 'Blitz', 'triantafyllos98', 1663, 'bezmalem', 1654, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Nc3,Nf6,O-O,Bg4,Bb5,O-O,Bxc6,bxc6,Re1,Nd7,h3,Bh5,Qb3,Bxf3,Qxb4,Bh5,Qb3,Rb8,Qc2,Bg6,Qa4,f5,exf5,Bxf5,Qxc6,Qh4,Ne2,Be4,Qxd7', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/cLCeh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLCiO', 'Blitz', 'knightlock', 1727, 'Ramsay07', 1733, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,c4,c6,Nc3,Be7,Bg5,O-O,cxd5,Nxd5,Bxe7,Qxe7+,Be2,Re8,O-O', 'Nxc3,bxc3,Qxe2,Qxe2,Rxe2', 'https://lichess.org/training/CLCiO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ClCv8', 'Blitz', 'pesedado', 2400, 'NM Leon_Blanco', 2312, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,e6,Nf3,Bd6,Bg3,h5,O-O,Ng4,Nbd2,Qc7,Re1,Bd7,Qe2,O-O-O,b4,Kb8,a4,Ne7,Bxd6,Qxd6,Nb3,Nf5,Bxf5,exf5,Nc5,Rhe8,Qd2,Re4,h3,Rh8,Nxd7+,Qxd7,hxg4,hxg4,Rxe4,dxe4,Qf4+,Ka8,Ne5,Qe6,Re1,f6,Ng6,Rh6,Nf8,Qe7,Qxf5,Qxf8,Rxe4,Rh8,Qd7,Qb8,g3,Rc8,Re3,a6,a5,g6,Qxg4,f5,Qxg6,f4,Rf3,fxg3,fxg3,Rg8,Qd3,Qe8,d5,Qe1+,Kg2,Rh8,Re3', 'Qh1+,Kf2,Rh2#', 'https://lichess.org/training/ClCv8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cLdLy', 'Blitz', 'PH_padawan', 1680, 'Hadi6565', 1708, 'Nf3,d5,d4,Nf6,Nc3,g6,Bg5,Nbd7,g3,Bg7,h4,h6,Be3,c6,Qd2,Qb6,Rb1,Nf8,Bg2,Bf5,O-O,Be4,Bh3,e6,Bg2,N8d7,Na4,Qc7,b3,Ng4,Rbd1,Nxe3,fxe3,f5,c4,Qxg3,Rf2,Nf6,Ne5,g5,Qb4,Bxg2,Rxg2,Qxe3+,Kf1,Nd7,Ng6,c5,Nxc5,Kf7,Nxh8+,Rxh8,Nxd7,Bxd4,Rxd4,Qxd4,Qxb7,Kg6,Qc7,Qd1+,Kf2,Qd4+,Ke1,Qxh4+,Kd1,Qh1+,Kd2,Qxg2,Ne5+,Kh5,Qf7+,Kh4,Nf3+,Kg3,Qf6,Re8,Qe5+,Kf2,Qd4+,Kf1', 'Qa1+,Kf2,Qe1#', 'https://lichess.org/training/cLdLy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('clFlK', 'Rapid', 'ryanveguilla32', 1757, 'TheBigYam', 1802, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,d6,Bb3,Bg4,Nbd2,Qd7,Nf1,Bxf3,Qxf3,Ng4,Ne3,Nxe3,Bxe3,Bxe3,Qxe3,O-O-O,Ba4,Qg4,Bxc6,bxc6,Qxa7,Qxg2,O-O-O,Qg5+,Kb1,Kd7,Rhg1,Qh6,d4', 'Ra8,Qb7,Rhb8,Qxa8,Rxa8', 'https://lichess.org/training/clFlK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLFqb', 'Blitz', 'FM pasteta', 2342, 'Korasnoch', 2691, 'Nf3,d5,c4,e6,g3,Nf6,Bg2,c6,O-O,Be7,cxd5,exd5,d4,O-O,Nc3,Nbd7,Bf4,Re8,Rc1,Nf8,Ne5,Ne6,Be3,Bd6,f4,Nd7,f5,Nc7,Nxd7,Bxd7,Qd2,Qe7,f6', 'Qxe3+,Qxe3,Rxe3', 'https://lichess.org/training/CLFqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cLhj8', 'Classical', 'Bormatyxa', 2019, 'Tamer-lenk', 2007, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,g6,O-O,Bg7,Be3,O-O,Qd2,Ng4,Bxg4,Bxg4,Bh6,b5,Bxg7,Kxg7,Qg5,Bc8,Nd5,e6,Qxd8,Rxd8,Nb6,Ra7,a4,Bb7,f3,Nc6,c3,b4,Nxc6,Bxc6,cxb4,Rb7,a5,d5,Rfc1,Bb5,exd5,exd5,Rd1,d4,Rac1,d3,b3,Re7,Nc4,Re2,Rd2', 'Bxc4,Rxe2,dxe2', 'https://lichess.org/training/cLhj8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ClHNJ', 'Blitz', 'henzercad18', 1867, 'jcfding', 2201, 'c4,d5,cxd5,e6,dxe6,Bxe6,Nc3,Nd7,Nf3,Ngf6,d4,c6,e4,Be7,e5,Nd5,Be2,O-O,O-O,N7b6,Bd2,Bg4,Nxd5,Nxd5,Bc3,Nf4,h3,Bh5,Qc2,Bg6,Qd1,Bg5,Nxg5,Qxg5,Bf3,Nxh3+,Kh2,Qf4+,Kxh3,h5,g3,Bf5+,Kg2,Qg5,Bd2,Qg6,Rh1,Bg4,Bxg4,hxg4,Qe2,f5,Bf4,Rfd8,Rad1,Rd5,Rh2,Re8,Be3,Kf7,Rdh1,c5,Qc4,Qe6,dxc5,Qxe5,c6,bxc6,Bf4,Qe6,Rc1,a5,Rhh1,c5,Rhe1,Qc6,Rxe8,Kxe8,Re1+,Kf8,Re5,Rd1+,f3', 'Qxf3+,Kh2,Rh1#', 'https://lichess.org/training/ClHNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('clhUy', 'Rapid', 'darko9963', 1735, 'farvardin', 1749, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,d4,Qe4+,Be2,Bg4,O-O,Bb4,c3,Bd6,Bd3,Bxf3,Bxe4,Bxd1,Rxd1,c6,Nd2,Nf6,Bf3,O-O,Ne4,Nxe4,Bxe4,Nd7,Rf1,Rae8,Bf5,Nf6,Bxf4,Bxf4,Rxf4,Re2,Rf2,Rfe8,Kf1,Rxf2+,Kxf2,g6,Bd3,Ng4+,Kg3,Ne3,Kf3,Nd5,Rf1', 'Re3+,Kf2,Rxd3,Ke2,Re3+', 'https://lichess.org/training/clhUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ClIp7', 'Rapid', 'AKgs', 1910, 'hamstra', 1927, 'd4,Nf6,e3,g6,Bd3,Bg7,f4,d6,e4,Bg4,Nf3,O-O,O-O,c5,c3,Qc7,Be3,cxd4,cxd4,Nbd7,Nbd2,e5,fxe5,dxe5,d5,Nh5,Qb3,Nf4,Rac1,Qd8,h3,Bh5,g4,Nxh3+,Kh2,Bxg4,Kg3,Bxf3,Nxf3,Nf4,Bxf4,exf4+,Kxf4,Bh6+,Kg4,Bxc1,Rxc1,Nb6,Rh1,Qd7+,Kg3,Qa4,Qc3,Rac8,Qf6,Nd7,Qh4,h5,Qg5,Kg7,Rxh5,Rh8,Rxh8,Rxh8,e5,Rh5,Qe7,Nxe5', 'Nxe5,Qh4+,Qxh4,Rxh4,Kxh4', 'https://lichess.org/training/ClIp7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('clIvJ', 'Rapid', 'orchys53', 1839, 'chompa', 1794, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,O-O,d6,Nxd4,Nxd4,Qxd4,Be6,Nc3,Bxc4,Qxc4,Nf6,Be3,c6,Rad1,Be7,e5,d5,Qb3,Ng4,Qxb7,Rc8,Bxa7,Nxe5,Rfe1,f6,f4,Ng6,g3,O-O,Bb6,Rb8,Bxd8,Rxb7,Bxe7,Nxe7,b3,Kf7,Na4,Ra7,Rd2,Nf5,c3,Nd6,Nc5,Nb5,Rc2,d4,cxd4,Nxd4,Rc3,Rxa2,Rd3,Rd8,Nb7,Rd7,Nc5,Rd5,b4,Ne2+,Kf1,Rxd3,Nxd3,Nc3,Rc1,Nd5,Rxc6,Ne3+,Ke1,Nd5,b5,Ra1+,Kd2,Ra2+,Kc1,Rxh2,b6,Nxb6,Rxb6,Rg2,Rb7+,Kg8,Nc5,Rxg3,Ne6,h5,Kd2,h4,Ke2,h3,Kf2,Rg2+,Kf1,Rg4,Rb3', 'h2,Rh3,Rg1+', 'https://lichess.org/training/clIvJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLivp', 'Blitz', 'aza7777', 1744, 'Amkaroff', 1768, 'b3,f6,Bb2,d6,Nf3,Bd7,d3,Nc6,Nbd2,a6,e4,b6,Be2,h6,Nd4,Nxd4', 'Bh5+,g6,Bxg6#', 'https://lichess.org/training/CLivp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cljyd', 'Blitz', 'asciiman', 1776, 'Thepawnslayer', 1729, 'e4,e5,Nf3,Nc6,Bb5,f5,exf5,e4,Qe2,Qe7,O-O,exf3,Qxf3,Nf6,Nc3,Nd4,Qd3,Nxb5,Nxb5,Qc5,Re1+,Be7,b4,Qb6,a4,c6,Nd4,d5,a5,Qc7,Ne6,Bxe6,Rxe6,O-O,Ba3,Rfe8,Rae1,Bd6,Qh3,Re7,Bb2,Rxe6,fxe6,Rf8,g3,Bxb4,c3,Be7,d4,Qxa5,Ba1,Qa2,Kg2,Ne4,Rf1,Rxf2+,Kg1,Rxf1+,Qxf1,Qd2', 'Qf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/cljyd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('clK0Z', 'Blitz', 'Taras_Obludnyk', 1732, 'IgorVIV', 1736, 'e4,e5,f4,exf4,Nf3,Be7,d4,Bh4+,g3,fxg3,hxg3,Bxg3+,Ke2,d5,e5,Bg4,Bg2,Nc6,Be3,Nce7,Bh3,Bh5,Qg1,Nf5,Bxf5,Bxf3+,Kxf3,g6,Bd3,Bxe5,dxe5,Qe7,Qg5,f6,exf6,Nxf6,Bd4,Rf8,Bxf6', 'Rxf6+,Kg3,Rf3+,Kxf3,Qxg5', 'https://lichess.org/training/clK0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cLKDT', 'Classical', 'alvisa', 1952, 'DmitriyD1000', 2037, 'e4,c5,Nf3,d6,Nc3,Nf6,a4,a6,Bc4,e6,O-O,Be7,d4,cxd4,Qxd4,Nc6,Qd1,Bd7,Bg5,O-O,Bxf6,Bxf6,Qxd6,Bxc3,bxc3,Na5,Bd3,Rc8,Rfd1,Rc6,Qg3,Qc7,Ne5,Rxc3,Nxd7,Qxd7,e5,Qc6,h3,Nc4', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/cLKDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLKhB', 'Rapid', 'essueno', 1766, 'mystifen', 1861, 'e4,c5,Nc3,e6,f4,Nc6,Nf3,Nf6,Bb5,a6,Bxc6,bxc6,e5,Nd5,Nxd5,cxd5,O-O,d6,f5,dxe5,Nxe5,exf5,Qh5,g6,Qe2,Be7,d4,O-O', 'Nc6,Qd6,Nxe7+', 'https://lichess.org/training/CLKhB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CllLa', 'Rapid', 'davit23032', 1982, 'Chkader_dz', 1881, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,a6,Ba4,b5,Bb3,d6,d4,exd4,cxd4,Ba7,Ng5,Nh6,e5,Nxd4,O-O,Nxb3,axb3,O-O,exd6,Qxd6,Qf3,Ng4,Bf4,Qd4,h3,Nf6,Qxa8,Qxf4,Qxa7,Qxg5,Qe3,Qd5,Nc3,Qxb3,Qc5,Qxb2,Rfe1,Qc2,Rac1,Qg6,Rcd1,Bxh3', 'Qxf8+,Kxf8,Rd8+,Ne8,Rexe8#', 'https://lichess.org/training/CllLa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLMkk', 'Classical', 'AgungSediasto', 1788, 'IslamOsama51', 1709, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bb4,Ne2,Nf6,Bd2,O-O,g3,b6,Bg2,Bb7,a3,Bxc3,Nxc3,Ne5,O-O,Qc7,Bf4,d6,Re1,Rad8,Nb5,Qc5,Nd4,Ned7,Be3,Qc8,f3,Nc5,c3,Ba6,Bf1,e5,Nf5,Bxf1', 'Ne7+,Kh8,Nxc8', 'https://lichess.org/training/CLMkk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLnq8', 'Rapid', 'dmieter', 2042, 'iustin29', 1861, 'f4,g6,Nf3,Bg7,e3,d5,Be2,e6,Nc3,c6,O-O,Ne7,b3,Nd7,Bb2,O-O,Qe1,e5,fxe5,Nxe5,h3,Bf5,Rc1,Qd7,Nh4,Bxh3,gxh3,Qxh3,Ng2,Nf5,Rf4,Ng3,Rh4', 'Nxe2+,Qxe2,Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/CLnq8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLP4j', 'Rapid', 'alihsgambao', 1842, 'Dalet', 1825, 'Nf3,c5,d4,cxd4,Nxd4,e6,Nb5,d5,e3,a6,Nd4,Nf6,Bd2,Be7,Bd3,O-O,f4,b5,O-O,Bb7,c3,Nbd7,Be1,Nc5,Bc2,Nce4,Nf3,Bc5,Qe2,Qb6,Nd4,b4,a3,bxc3,bxc3,Qb2,Nb3,a5,Bf2,a4,Nxc5,Nxc5', 'Bxh7+,Kxh7,Qxb2', 'https://lichess.org/training/CLP4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ClpaG', 'Classical', 'JaymielPiel_10', 2007, 'michu99v2', 1971, 'e4,c5,Nf3,Nc6,d3,g6,Be2,Bg7,Nc3,a6,a4,d6,O-O,Nf6,Bg5,O-O,h3,h6,Bxf6,Bxf6,Qd2,Bg7,Rab1,Rb8,Nd5,b5,axb5,axb5,c4,bxc4,dxc4,Nd4,Nxd4,Bxd4,Qxh6,Rxb2,Rxb2,Bxb2,Bd3,Bg7,Qh4,e6', 'Ne7+,Qxe7,Qxe7', 'https://lichess.org/training/ClpaG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('clPql', 'Rapid', 'Luisdoss03', 1961, 'Cheron', 1949, 'e4,c5,Nf3,d6,Bc4,e6,c3,Nf6,O-O,Nc6,Re1,Qc7,d4,Be7,dxc5,dxc5,Bg5,O-O,Na3,a6,Nc2,b5,Bf1,Rd8,Qe2,Bb7,Rad1,Ne5,Nxe5,Qxe5,f4,Qc7,e5,Nd5,Bxe7,Qxe7,g3,Qc7,Bg2,h6,Ne3,Nxe3,Qxe3,Bxg2,Kxg2,Rd5,Rd3,Rad8,Red1,Qc6,Kf2,Rxd3,Rxd3,Rxd3,Qxd3,Qd5,Qxd5,exd5,Ke3,Kf8,f5,Ke7,h4,Kd7,g4,Kc6,f6,g6,g5,hxg5,hxg5,Kd7,b3,Ke6,Kf4,a5,a3,b4,cxb4,cxb4,a4,Kd7', 'Ke3,Ke6,Kd4,Kf5,Kxd5', 'https://lichess.org/training/clPql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLQlu', 'Blitz', 'WGM LadyCactus', 2268, 'DeepDiego', 2489, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Qc2,h5,h4,Re8+,Ne2,Qc7,Bd2,Nd7,O-O-O,Nf8,f3,Be6,Kb1,a5,Rdg1,b5,g4,hxg4,fxg4,b4,g5,bxc3,Nxc3,f5,Bxf5,Rab8,h5,Ba3,b3,Qd7,Bxe6,Nxe6,g6', 'Nxd4,h6,Nxc2,gxf7+,Qxf7', 'https://lichess.org/training/CLQlu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('clQO6', 'Classical', 'Winter1958', 1998, 'majdiaiiat', 1691, 'd4,d5,Nf3,f5,h3,Nf6,Bg5,e6,e3,Nbd7,Ne5,Be7,Nxd7,Bxd7,Bd3,O-O,Nd2,Ne4,Bxe7,Qxe7,Nf3,Qb4+,c3,Qxb2,Bxe4,Qxc3+,Kf1,fxe4,Ne5,Bb5+,Kg1,Qb2,Qe1,Rxf2,Qxf2,Qxa1+,Kh2,Rf8', 'Qxf8+,Kxf8,Rxa1', 'https://lichess.org/training/clQO6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Clrdo', 'Rapid', 'timuru', 1974, 'Kobracan', 1991, 'e4,c6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Nc6,Bb5,Qb6,c3,a6,Bxc6+,bxc6,O-O,e6,Qg4,Ne7,Nd2,Ng6,N2f3,c5,Ne2,Bb7,h4,h5,Qg3,Be7,Rb1,Qa5,a3,Qa4,Be3,Rc8,Nf4,Nxf4,Qxg7,Ne2+,Kh1,Rf8,Rfe1,d4,Rxe2,dxe3,Rxe3,Bxh4,Kg1,Be7,Rbe1,Qg4,Qh7,Rg8,g3,Bxf3,Rxf3,Qxf3,Qxg8+,Kd7,Qh7,Kc7,Re3,Qg4,Qxf7,Qg5', 'f4,Qf5,Qxe7+', 'https://lichess.org/training/Clrdo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLRid', 'Rapid', 'Mostafa0000', 2083, 'AyatJK', 1859, 'e4,e5,Nf3,d6,h3,Be7,d4,exd4,Bc4,Nf6,Qxd4,O-O,O-O,Nc6,Qe3,Ne5,Nxe5,dxe5,Nc3,c6,a4,b6,Bd3,Nh5,Qe2,Nf4,Bxf4,exf4,Rad1,Qc7,e5,Bg5,Qe4,g6,g3,Bxh3,Rfe1,Bf5,Qf3,Bxd3,Rxd3,fxg3,fxg3,Rae8,Qe4,Bf6,exf6,Rxe4,Rxe4,Rd8,Rde3,h5,Re8+,Rxe8,Rxe8+,Kh7,Ne4,g5,Re7,Qd8,Rxf7+,Kg6,Rg7+,Kf5,Re7,Qd1+,Kg2,Qxc2+,Nf2,Kxf6,Rxa7,Qxb2,Kf3,g4+,Kg2,Qb3,Ne4+,Kg6,Re7,Qf3+,Kg1,Qd1+,Kf2,Qc2+,Ke3,Qb3+,Kf4,Qf3+,Ke5,Qf5+,Kd6,Qd5+,Kc7,c5,Kxb6,Qd8+,Rc7,c4,a5,Qd4+,Nc5,Qd6+,Rc6,Qxc6+,Kxc6,c3,Nd3,h4,gxh4', 'g3,a6,g2', 'https://lichess.org/training/CLRid');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLrKy', 'Blitz', 'sstamb495', 2101, 'donskoy52', 2263, 'e4,e6,d4,d5,Nd2,c5,Ngf3,Nf6,e5,Nfd7,c3,b6,Bb5,Ba6,a4,Bb7,Bd3,cxd4,cxd4,Nc6,O-O,Rc8,Re1,Be7,Nf1,Nb4,Bb1,Ba6,a5,Bb5,axb6,Qxb6,h4,a6,Ng3,Qc6,Ra3,O-O,Rc3,Qb7,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Bxg5,hxg5,Rxc3,bxc3,Nd3,Re3,Nxc1,Nf5,Ne2+,Rxe2,g6', 'Ne7+,Kg7,Qh6#', 'https://lichess.org/training/CLrKy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cLrze', 'Blitz', 'quest96', 1961, 'LEAYOUHOE', 2136, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Bb5,Bg7,Bxc6,bxc6,Nc3,Nf6,O-O,O-O,Rb1,c5,Nb3,d6,Be3,Bb7,Nd5,Nxd5,exd5,a5,Qd2,a4,Nc1,Qd7,Ne2,Qf5,Rfd1,Ba6,Ng3,Qd7,Bh6,Bxh6,Qxh6,Rfb8,Ne4,f6,Re1,Bc4,Nc3,Rb7,b3,axb3,cxb3,Bd3,Rb2,Bf5,Rbe2,Qd8,Re3,Raa7,g4,Bxg4,Rg3,Bf5,h4,Qa5,h5,g5,Rxg5+,fxg5,Qxg5+,Kh8,h6,Qxc3,Re3,Qc1+,Kg2,Bg6,Qg4,Rxa2', 'Qc8+,Be8,Qxe8#', 'https://lichess.org/training/cLrze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cLsK7', 'Rapid', 'frscb', 1895, 'sega_mur', 1872, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,Bc5,c3,O-O,d4,exd4,cxd4,Be7,d5,Na5,Bc2,d6,Bg5,Nxd5,Qxd5,Be6,Bxe7,Qxe7,Qd3,Nc4,e5,g6,exd6,cxd6,b3,Ne5,Nxe5,dxe5,Nc3,Bf5,Qe2,Bd7,Rad1,Rad8,Ne4,Bc6,Rxd8,Rxd8,Rd1,Rd4,Rxd4,exd4,Qd3,f5,Nd2,Qe1+,Nf1,Be4,Qd2', 'Qxd2,Nxd2,Bxc2,Nf3,d3', 'https://lichess.org/training/cLsK7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ClTZq', 'Rapid', 'cavallomatto11', 1663, 'Standa217', 1822, 'c4,e5,Nc3,Bc5,Nf3,d6,d4,exd4,Nxd4,Qf6,Nd5,Qxd4,Qxd4,Bxd4,Nxc7+,Kd7,Nxa8,Nc6,e3,Bf6,Bd3,Nb4,Bf5+,Kd8,Be4,Be6,a3,d5,cxd5,Bxd5,Bxd5,Nc2+,Kd2,Nxa1,Bxb7,Nb3+,Ke2,Nc5,Rd1+,Ke7,Bf3,Ne6,Bc6,Be5,f4,Bd6,f5,Nc5,h3,Nf6,g4,Nfd7,b4,Nb3,Bb2,Rc8,Bd5', 'Rc2+,Kd3,Rxb2', 'https://lichess.org/training/ClTZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Clvju', 'Rapid', 'Cdivot98', 1800, 'AzureFractal', 1773, 'd4,d5,c4,c6,Nf3,Nf6,g3,Bf5,Bg2,e6,Nbd2,Nbd7,Nh4,Bg6,Nxg6,hxg6,Qc2,Bd6,e4,dxe4,Nxe4,Nxe4,Bxe4,Bb4+,Kf1,Nf6,Bg5,Be7,Rd1,Nxe4,Bxe7,Nxg3+,fxg3,Qxe7,Kg2,O-O-O,Rhe1,Rh6,d5,cxd5,cxd5+,Kb8,Qf2,Qb4,a3,Qb3,d6,Rh5,Qf4,Rf5,Qd2,Rd5,Qc1,Rxd1', 'Qc7+,Ka8,Qxd8#', 'https://lichess.org/training/Clvju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cLvow', 'Classical', 'G_E_O_R_G_I_A_FX', 1626, 'w172', 1643, 'g3,e6,Bg2,d5,d3,h6,Nf3,c5,O-O,Nf6,b3,Nc6,Bb2,Bd6,Nbd2,O-O,d4,Re8,dxc5,Bxc5,Ne5,Bd4', 'Nxc6,bxc6,Bxd4', 'https://lichess.org/training/cLvow');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('clw33', 'Rapid', 'sauravkarn908', 2285, 'Moh_Ashraf', 2434, 'e4,Nf6,Nc3,d5,exd5,Nxd5,d4,c6,Nf3,Bg4,Bd3,e6,O-O,Nd7,h3,Bh5,Ne4,Nb4,Re1,Be7,c3,Nxd3,Qxd3,O-O,Bf4,Bg6,Qd2,h6,Nd6,Qb6,Nc4,Qd8,Nce5,Nxe5,Nxe5,Bf5,Rad1,Bd6,Nc4,Be7,Qe3,b5,Ne5,Rc8,Bh2,Qa5,Qf3,Bd6,Nxc6', 'Bxh2+,Kxh2,Qc7+', 'https://lichess.org/training/clw33');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CLwfu', 'Rapid', 'Chesslike1234', 2054, 'Dadu071', 2037, 'd4,d5,c4,e6,e3,g6,Nc3,Bg7,Nf3,Nf6,b3,Nc6,Bb2,O-O,Be2,Ng4,h3,Nf6,O-O,Ne7,Nd2,Nf5,Bg4,h5,Bxf5,exf5,cxd5,Nxd5,Qf3,Nxc3,Bxc3,Qg5,e4,Re8,e5,c6,Rfe1,Be6,Rad1,f4,Ne4,Qh6,Qd3,Bd5,f3,g5,Kf2,g4,hxg4,hxg4,Rh1,g3+,Ke2,Qg6,Nf6+,Bxf6,Qxg6+,fxg6,Rh6,Kf7,Kd3,Bg7,Rh7,Rh8,e6+,Bxe6,Rxg7+,Kxg7,d5+,Kh7', 'Rh1+,Kg8,Rxh8+', 'https://lichess.org/training/CLwfu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ClWLN', 'Rapid', 'stokwa06', 1729, 'khoshnood', 1751, 'c4,c5,Nc3,Nc6,Nf3,h6,d3,Nd4,Bf4,g5,Bg3,g4,Nxd4,cxd4,Nd5,d6,Qc1,e6,Nb4,a5,Nc2,e5,e3,h5,exd4,h4,dxe5,hxg3,fxg3,Bh6,Qd1,dxe5,Be2,Nf6,O-O,Be3+,Nxe3,Qb6,Qd2,Bd7,Rf2,e4,Raf1,Rh6,Nd5,Nxd5,cxd5', 'e3,Qc3,exf2+', 'https://lichess.org/training/ClWLN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cLXcd', 'Blitz', 'Gappp', 2112, 'Boss_GM', 1997, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,Bd6,Bg3,O-O,c4,b6,Nc3,Bb7,cxd5,Nxd5,Bd3,c5,Ne4,Be7,dxc5,bxc5,O-O,Nc6,Rc1,Qb6,b3,Rad8,Qe2,Ndb4,Bb1,Ba6,Qb2,Bxf1,Rxf1,Nd3,Qc2,Ndb4', 'Nf6+,Kh8,Qxh7#', 'https://lichess.org/training/cLXcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('clYeg', 'Blitz', 'IM KamranShirazi', 2492, 'MrPickles212', 2333, 'f4,e5,fxe5,d6,exd6,Bxd6,Nf3,g5,d4,g4,Ne5,Bxe5,dxe5,Qxd1+,Kxd1,Nc6,Nc3,Nxe5,Nd5,Kd7,Bf4,Ng6,Bg3,h5,Bxc7,Kc6,c4,Be6,Rc1,Bxd5,cxd5+,Kxd5,e4+,Kxe4,Bc4,N8e7,Bxf7,Rac8,Re1+,Kf5,Rf1+,Kg5,Rc5+,Kh6,Be6,Rcf8,Rf7,Rxf7,Bxf7,Rf8,Bb3,Rf1+,Ke2,Rg1,Kf2,Rb1,Rc2,Nf5,Rd2,h4,Bb8,Kg5,Bxa7', 'g3+,hxg3,hxg3+,Ke2,Nf4+,Kf3,Rf1+', 'https://lichess.org/training/clYeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('clzOl', 'Rapid', 'fakeplasticsurgent', 1681, 'Kaveh_ko', 1654, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,e3,O-O,Bd3,Nc6,Ne5,Bd7,O-O,Nxe5,dxe5,Ne8,cxd5,exd5,Nxd5,Bc5,Qh5,h6,e4,f6,Qg6,fxe5,Bxh6,c6,Ne3,Rf6,Bc4+,Kh8,Bxg7+,Nxg7,Qg3,Qe7', 'Qh4+,Nh5,Qxh5+', 'https://lichess.org/training/clzOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cM2ys', 'Rapid', 'LuisUrzua', 1645, 'Norcimo', 1627, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nc6,Nf3,d6,a3,Nf6,Nc3,Qa5,Bd2,Qc7,b4,a6,Be2,g6,Rc1,Bd7,O-O,Bg7,h3,Rc8,b5,axb5,Nxb5,Qb8,a4,O-O,Bc3,Nxe4,Be1,Nxd4,Nfxd4,Bxb5,Bxb5', 'Rxc1,Qxc1,Bxd4', 'https://lichess.org/training/cM2ys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cm5Ne', 'Blitz', 'Karpfe', 1675, 'blanke2', 1600, 'd4,e5,Nf3,e4,Ne5,d5,e3,Bd6,g3,Bxe5,dxe5,Qe7,Qd4,Nc6,Qxd5,Qxe5,Qxe5+,Nxe5,Bg2,Nf3+,Bxf3,exf3,O-O,Bh3,Rd1,Bg2,b3,Nf6,Nc3,O-O,Ba3,Rfd8,Bb2,Rd6,Rxd6,cxd6,Rd1,Rd8,Nb5,Ne4,Nxa7,Rc8,c4,Ra8,Nb5,Rxa2,Nxd6,Nxd6,Bc3,Ne8,Rd8,Kf8', 'Bb4+,Kg8,Rxe8#', 'https://lichess.org/training/cm5Ne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cM8BS', 'Blitz', 'FeykineCevapAlanAdam', 1816, 'Belo99', 1917, 'e4,e5,Nf3,Nf6,Bc4,Bc5,d4,exd4,O-O,O-O,Re1,d6,Bg5,h6,Bh4,Bg4,c3,dxc3,Nxc3,Nbd7,Nd5,c6,Ne3,Bh5,g4,Bxe3,Rxe3,Bxg4,Kh1,Ne5,Be2,g5,Nxe5,Bxe2,Qxe2,dxe5,Rg3,Kh7,Qf3,gxh4,Qf5+,Kh8,Rf3,Nh7,Qxe5+,f6,Qh5,Qe7,Re1,Rad8,Qxh6,Qb4,Rg1,Rd7,Qxh4,f5,Rf4,Rd4', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/cM8BS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cmae8', 'Blitz', 'gambitscool', 1856, 'brasbudas', 1947, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Nc6,Nc3,e6,Nf3,Bd7,O-O,Bd6,Qe2,a6,Rd1,e5,dxe5,Nxe5,Nxe5,Bxe5,Nd5,Nxd5,Rxd5,Bd6,Rh5,Qf6,Bd2,O-O-O,Bc3,Qg6,f3,Rhe8,e4,Bc5+,Rxc5,f5,Bd3,fxe4,Bxe4,Qd6,Bd4,Qxd4+,Qf2,Qb4,Rac1,Bc6,Bxc6,bxc6,Rxc6,Rd7,h3,h5,Qa7', 'Re1+,Rxe1,Qxe1+,Kh2,Qe5+,Kh1,Rd1+', 'https://lichess.org/training/cmae8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMajD', 'Rapid', 'chanjma', 1783, 'SUPER_KABADO', 1801, 'e4,c5,Nc3,e6,Bc4,a6,a3,b5,Ba2,Bb7,d3,Nc6,f4,Qc7,Nf3,Be7,O-O,Nf6,Qe1,Rc8,e5,Ng8,Qg3,g6,Qf2,Nd4,Nxd4,cxd4,Ne4,Bxe4,dxe4,Qxc2,Qg3,Qxe4,Bb1,Qd5,f5,exf5,Re1,Bc5,Kh1,Ne7,Bh6,Nc6,Bg7,Rg8,Bf6,Be7,Ba2,Qc5,b4,Qc3,Qh4,h5,Bxe7,Nxe7,Qg5,Rc6,Rac1,Qb2,Rxc6,Nxc6', 'Bxf7+,Kxf7,Qf6+,Ke8,e6', 'https://lichess.org/training/cMajD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cmAMb', 'Blitz', 'frozen_shadow', 2140, 'SeringWand753', 2092, 'e4,c6,d4,d5,e5,Bf5,c3,e6,Bd3,Bxd3,Qxd3,c5,Be3,Qb6,Qc2,Nc6,Ne2,Nh6,Bxh6,gxh6,Qd2,O-O-O,O-O,Rg8,b3,c4,b4,Rg5,Qe3,Be7,Nd2,Rdg8,g3,h5,Nf3,Rg4,Kh1,Qd8,Neg1,h4,a4,hxg3,fxg3,h5,Qf2,h4,Nxh4,Bxh4,gxh4,Rxh4,Qxf7', 'Rxh2+,Kxh2,Qh4+,Nh3,Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/cmAMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CMbH4', 'Rapid', 'Poet1986', 2031, 'MsGenie', 2024, 'e4,c5,d4,cxd4,c3,e5,Nf3,Nc6,Bc4,Be7,cxd4,exd4,Qb3,Qa5+,Bd2,Qh5,h4,Na5,Qd3,Nxc4,Qxc4,Qc5,Qb3,a5,Na3,Nh6,Rc1,Qh5,Nxd4,O-O,Nab5,a4,Qg3,Ra6,Bxh6,Rxh6,Nf5,Bf6,Nxh6+,Qxh6,f4,Bxb2,Rc2,a3,O-O', 'Qb6+,Qf2,Qxb5', 'https://lichess.org/training/CMbH4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMBip', 'Blitz', 'Ben_Ja_Min123', 1889, 'AliKhan88', 1891, 'e4,e5,Nf3,d6,Nc3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Be7,Bg5,O-O,Qd2,Bg4,f3,Bh5,g4,Bg6,h4,h6,Bxh6,gxh6,Qxh6,Nh7,h5,Bxe4,Nxe4,Bg5,Nxg5,Nxg5,f4,Qe7+,Kf2,Ne4+,Bxe4,Qxe4,Rae1,Qd4+,Kg3,Qd2,g5,Rfe8,g6,Rxe1', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/cMBip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cmcfn', 'Classical', 'arceganoel60', 1980, 'svictorov', 1690, 'e4,c6,d4,d5,e5,Bf5,Nf3,Nd7,Be2,h6,O-O,e6,Be3,Qc7,c3,O-O-O,b4,f6,Nbd2,fxe5,dxe5,Nxe5,Bd4,Nxf3+,Nxf3,Nf6,a4,Bd6,Qb3,Rde8,a5,a6,Bb6,Qf7,c4,Nd7,cxd5,exd5,Bd3,Bxd3,Qxd3,Nxb6,axb6,Qe7,b5,axb5,Rfe1,Qf7,Ra8+,Kd7,Rexe8,Rxe8,Ra7,Rb8,g3,Qe7,Qf5+,Ke8,Nd4,Qd7,Qg6+,Kf8,Nf5,Bc5,Ra2,Bxb6,Re2,Re8', 'Rxe8+,Qxe8,Qxg7#', 'https://lichess.org/training/Cmcfn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cmcI4', 'Blitz', 'smithvillavo', 1847, 'larr022', 1927, 'e4,e5,f4,d6,Nf3,Bg4,Bc4,Nc6,Nc3,Nf6,h3,Bxf3,Qxf3,Nd4,Qd1,Be7,fxe5,dxe5,O-O,O-O,d3,Bc5,Na4,Ne2+,Kh2', 'Ng4+,hxg4,Qh4#', 'https://lichess.org/training/cmcI4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cmDNh', 'Rapid', 'QuietLeaf', 1709, 'tetrapentam', 1730, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bc4,g6,O-O,Bg7,c3,Nf6,Be3,a6,Qc2,O-O,Nd2,Nd7,N2b3,Nde5,Be2,Be6,Nxe6,fxe6,Nd4,Nxd4,cxd4,Nc6,Qb3,d5,Qxb7,Nxd4,Bxd4,Bxd4,exd5,exd5,Rad1,Qb6', 'Qxd5+,e6,Qxd4,Qxd4,Rxd4', 'https://lichess.org/training/cmDNh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cmGR6', 'Blitz', 'Johnson12345', 1534, 'lesnoj_kot', 1894, 'c4,c5,Nc3,e5,e4,d6,Nd5,Ne7,Nf3,Nxd5,exd5,Bf5,Be2,Qd7,O-O,Be7,d3,O-O,g3,h5,Bg5,Bxg5,Nxg5,h4,Bf3,hxg3,fxg3,f6,Ne6,Bxe6,dxe6,Qe7,Bd5,Nc6,Qh5,Nb4,Be4,g5,g4,Nc2,Rf3,Nxa1,Rh3,Qg7,Bd5,Rae8', 'e7+,Rf7,Bxf7+,Qxf7,Qh8#', 'https://lichess.org/training/cmGR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CmGye', 'Rapid', 'MartijnLC', 1911, 'snah3007', 1601, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Nf6,Be3,a6,c4,e6,Nc3,Nc6,a3,Be7,d5,exd5,cxd5,Nb8,Bc4,O-O,O-O,Bg4,h3,Bh5,Be2,b5,Ne5,Bxe2,Nxe2,Nxd5,Ng3,Nxe3,fxe3,Bf6,Ng4,Bxb2,Rb1,Bxa3,Nh5,Nd7,Qd4,f6,Qd5+,Kh8,Rbd1,Bd6,Nf4,Qe7,Ne6,Rf7,Qxa8+,Nf8,Nxf8,Rxf8,Qxa6,f5,Nf2,Qxe3,Qxb5,Qg3,Rxd6,Qxd6,Rd1,Qg3,Qc5,Rg8,Qxf5,h6,Rd7,c6,Rd3,Qh4,g3,Qc4,Kg2,Qc2,Qg6', 'Rf8,Rf3,Qxg6', 'https://lichess.org/training/CmGye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMhZO', 'Blitz', 'CM HrvojeZagreb', 2306, 'BrianJJ', 2325, 'd4,f5,Bg5,g6,h4,Bg7,Nc3,d5,h5,h6,Bc1,g5,e3,e6,Bd3,c5,g4,Nc6,gxf5,exf5,dxc5,Nge7,Nb5,O-O,Nd6,Qa5+,c3,Qxc5,Nxc8,Raxc8,Ne2,Ne5,Nd4,Qd6,Bc2,f4,Qe2,f3,Qb5,b6,Bb3,Kh8,Bd2,Rc5,Qf1,N7c6,O-O-O,Nxd4,exd4,Rc7,dxe5,Bxe5,Be3,d4,Rxd4', 'Bxd4,Bxd4+,Qxd4', 'https://lichess.org/training/cMhZO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CMIaN', 'Rapid', 'reaper27215', 1868, 'lgc673', 1930, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,a6,Nc3,Nc6,Qd2,Nf6,Bd3,e6,O-O,Be7,b3,Qc7,Bb2,Bd7,Ne2,O-O,c4,Rfd8,Rad1,Ng4,h3,Nge5,Nxe5,Nxe5,Ng3,Bc6,Qf4,Nxd3,Rxd3,Rac8,Qg4,Bf8,Nh5,e5,Rfd1,g6,c5,dxc5,Rxd8,Rxd8,Rxd8,Qxd8,Bxe5,Be7,Kh2,Bd6,Bxd6,Qxd6+,f4,Bxe4', 'Qc8+,Qf8,Nf6+,Kg7,Qxf8+,Kxf8,Nxe4', 'https://lichess.org/training/CMIaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CMIhh', 'Rapid', 'juel1', 1893, 'stefano8', 1777, 'd4,e6,c4,d5,Nf3,dxc4,e4,Nf6,Nc3,Be7,h3,O-O,e5,Nd5,Bxc4,b6,O-O,Bb7,Bd3,h6,Ne4,Nd7,Ng3,f6,Bd2,Rc8,Re1,f5,Rc1,c5,b3,Nb4,Bb1,Bxf3,Qxf3,cxd4,Ne2,Rxc1,Bxc1,Bc5,Qg3,g5,Nf4,Kf7,Bxf5,exf5,e6+,Kf6,Nh5+,Kg6,exd7,Kxh5,Qf3+,Kg6,Re6+,Kg7,Qh5,Rf6,Rxf6,Kxf6,Qxh6+,Ke7', 'Bxg5+,Kxd7,Bxd8', 'https://lichess.org/training/CMIhh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CMjji', 'Blitz', 'FM ahlawy2', 2458, 'Maksidrom198611', 2309, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,N1c3,axb5,Nxb5,Nf6,f3,d5,exd5,Nb4,d6,Bf5,Nc7+,Kd7,Bb5+,Nc6,Nxa8,Qxa8,O-O,Bxd6,Be3,Ke7,a4,Rd8,Qe2,Kf8,c3,Kg8,Bb6,Rc8,Rad1,Be7,Rd2,h6,Rfd1,Qb8,a5,e4,Bxc6,bxc6,Re1,Bd8,Qa6,Bxb6+,axb6,exf3,gxf3,Nd5,b7,Rf8,Qxc6,Nf4,Rd4,Ne6,Rd5', 'Qa7+,Kg2,Nf4+', 'https://lichess.org/training/CMjji');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMJWU', 'Blitz', 'DanielJarlskov', 2032, 'Gaby666', 2025, 'c4,b6,Nc3,Bb7,d4,g6,e4,Bg7,Be3,d6,Bd3,Nd7,Nge2,c5,d5,Ne5,O-O,Nf6,a3,O-O,Re1,Nfd7,f4,Nxd3,Qxd3,a6,Bf2,Qc7,Bg3,Rfb8,a4,Rf8,Kh1,Rae8,Ng1,f5,Nf3,e6,Ng5,fxe4,Rxe4,exd5,Nxd5,Bxd5,Qxd5+,Kh8,Ne6,Rxe6,Rxe6,Bxb2,Rb1,Nf6,Qxd6,Qxd6,Rxd6,Ne4,Rxb6,Bd4,Rxa6,Rf5,Ra7', 'Nxg3+,hxg3,Rh5#', 'https://lichess.org/training/cMJWU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cmmgl', 'Rapid', 'GoodbyeStranger', 2177, 'PRITHCROC', 2053, 'd4,d5,c4,Nf6,Nc3,Bf5,Nf3,e6,Qb3,b6,Bf4,Bd6,Bxd6,cxd6,cxd5,exd5,Nxd5,O-O,e3,Be4,Nxf6+,Qxf6,Be2,Nd7,O-O,Rac8,Rac1,a6,Nd2,Bb7,Bf3,Bxf3,Nxf3,b5,Rc3,Nb6,Rfc1,Nc4,Qb4,Rb8,b3', 'a5,Qxc4,bxc4', 'https://lichess.org/training/cmmgl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cmmh7', 'Rapid', 'ahmedfaroukhameed', 2103, 'eliasrod', 2135, 'd4,e6,Bf4,d5,Nf3,Bd6,Bg3,Nf6,e3,Nbd7,Nbd2,O-O,Bd3,Bxg3,hxg3,c5,c3,b6,Ne5,a5,Nxd7,Qxd7,Bxh7+,Nxh7,Qh5,f5,Qxh7+,Kf7,Nf3,Ke8,Ne5,Qc7,Qg6+,Kd8,Rh7,cxd4,Rxg7,Qxe5,cxd4,Qd6,a3,Re8,Rc1,Bd7,Qg5+,Re7,Rg8+,Be8,g4,fxg4', 'Rxe8+,Kxe8,Qg8+,Kd7,Qxa8', 'https://lichess.org/training/Cmmh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CMMjb', 'Blitz', 'FM cukierbd', 2361, 'ChessGigant', 2056, 'g3,e6,Bg2,d5,f3,c6,e3,Nf6,Ne2,Bd6,O-O,Nbd7,d3,Qe7,c3,e5,Nd2,O-O,e4,Bc5+,d4,Bd6,Kh1,b6,dxe5,Nxe5,f4,Nd3,e5,Ng4,exd6,Qxd6,Kg1,Qc5+,Nd4,Re8,Nb3,Qc4,Bd2,c5,Nf3,Qa6,Qc2,d4,Ne5,Rxe5,fxe5,Rb8,c4,Be6,Qxd3,Bxc4,Qf3,Ne3,Qxf7+', 'Bxf7,Bxe3,dxe3', 'https://lichess.org/training/CMMjb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CmNux', 'Rapid', 'jyajjin', 1893, 'DHARAMPAL786', 1889, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Ba3,d6,e5,Bb6,Qf4,dxe5', 'Qxe5+,Be6,Bxe6', 'https://lichess.org/training/CmNux');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMoEr', 'Classical', 'blumes', 1837, 'yonder', 1761, 'Nf3,g6,g3,Bg7,Bg2,Nf6,O-O,O-O,d3,d6,e4,e5,h3,c5,c4,Nc6,Nc3,Nd4,Be3,Bd7,Qd2,Nxf3+,Bxf3,Bxh3,Bg2,Qc8,Bh6,Qe6,Bxg7,Kxg7,f4,exf4,Rxf4,Nh5,Rh4,Bxg2,Kxg2,Qe5,Ne2,f5,Nf4,fxe4,Nxh5+,gxh5,Rxe4,Qf6,Rf4,Qg5', 'Rf7+,Rxf7,Qxg5+', 'https://lichess.org/training/cMoEr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMOUe', 'Blitz', 'estilodudoso', 1680, 'ing_martin', 1871, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,h6,Nh3,Be7,d3,Qc7,Nd2,O-O,O-O,Rd8,Bf3,Rd4,Re1,Rh4,a3,Bxh3,gxh3,Rxh3,Bg2,Rh5,Qf3,Rc8,b4,Nb7,Bb2,a5,b5,Nc5,b6,Qxb6,Nc4,Qa7,Rxe5,Rxe5,Bxe5,Ne6,Re1,Nd5,Qg3,Bf8,h4,Rd8,Be4,a4,h5,Bc5,Bf5,Ng5,Kg2,f6,Bd6,Bxd6,Qxd6,Rxd6', 'Re8+,Kf7,Nxd6#', 'https://lichess.org/training/cMOUe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMP2Z', 'Rapid', 'cthtuby', 1762, 'upskirtsdownpanties', 1812, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,d6,Nf3,Nbd7,e3,O-O,Bd3,Re8,O-O,Nh5,Bg3,Nxg3,fxg3,e5,d5,c6,e4,a5,a3,Qb6+,Kh1,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/cMP2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CMpBl', 'Rapid', 'vourkos', 1844, 'Roshal', 1623, 'e4,e5,Nf3,Nc6,d4,Bb4+,c3,Ba5,d5,Nce7,Nxe5,Nf6,Bd3,d6,Nc4,Bb6,Nxb6,axb6,Bg5,Ng6,O-O,O-O,h3,h6,Be3,Re8,Qc2,Ne5,Nd2,c5,f4,Ng6,c4,Bd7,Nf3,b5,cxb5,Qa5,Bd2,Qb6,Bc3', 'c4+,Bd4,cxd3', 'https://lichess.org/training/CMpBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cmpl9', 'Bullet', 'shabashabdullatef', 1964, 'amilcar55', 1940, 'e4,d5,exd5,Qxd5,d4,c6,Nf3,Bg4,Be2,Nf6,c3,e6,h3,Bh5,O-O,Nbd7,Nbd2,Bd6,Re1,O-O,Ne5,Bxe2,Qxe2,Rad8,Ndc4,Bb8,Ne3,Qa5,b4,Qc7,Nxd7', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/cmpl9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CmpPs', 'Rapid', 'Amet_abdi', 1843, 'Margarita_Sirakova7', 1840, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,f6,a3,Nh6,d3,O-O,h3,Nf7,Bc4,d6,Nc3,Re8,Nh4,Be6,Be3,Bxc4,dxc4,Ng5,Qg4,Bd4,Bxd4,Nxd4,Rac1,Rf8,f4,exf4,Rxf4,Qe7,Nd5,Qd8,c3,Nb3,Rd1,c6,Ne3,Qb6,Nf5,g6,Ne7+,Kf7,Qxg5', 'Qxe3+,Kh2,Kxe7', 'https://lichess.org/training/CmpPs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cmPYT', 'Rapid', 'zac613', 1938, 'likaone', 1713, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Nc6,Nf3,Qg6,O-O,Bh3,Nh4,Qg5,d4,Qxh4,gxh3,Qxh3,Bg4,Qh4,d5,Ne5,Bf5,h5,Qe2,Ng4,h3,Qxh3,Qb5+,c6,Bd7+,Kxd7,dxc6+,bxc6,Qb7+,Ke6,Qxc6+,Kf5', 'Qe4+,Kf6,Nd5#', 'https://lichess.org/training/cmPYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CMRGF', 'Classical', 'sudebala', 1772, 'Primum', 1770, 'e4,e5,Nf3,f6,d4,exd4,Nxd4,c5,Nf3,a6,Bc4,Nc6,Nc3,d6,O-O,Bg4,Bf4,g5,Bg3,h5,h4,Nh6,Qd3,Nb4,Qd1,Nc6,a3,Rh7,Qd3,Rg7,Rfe1,gxh4,Bxh4,Bh3,g3,Bg4,Rad1,Nd4,Nxd4,cxd4,Qxd4,Qd7,Qxf6,Bxd1,Rxd1,Ng4,Qf4,Rg6,Nd5,Bh6,Nf6+', 'Rxf6,Qxf6,Nxf6', 'https://lichess.org/training/CMRGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMrmQ', 'Blitz', 'Destiny78', 1863, 'huellyouhappy', 1867, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,c6,h3,Bf5,Bd3,Ne7,Bxf5,Nxf5,O-O,O-O,Re1,Nd7,Ne2,Re8,Bf4,Qf6,Bxd6,Nxd6,Ng3,Re7,Qd2,Rae8,Rxe7,Rxe7,Re1,Nf8,Rxe7,Qxe7,Qd3,Ng6,Nf5,Qf6,Nxd6,Qxd6,Qf5,Ne7,Qd3,Qe6,Ne5,f6,Nf3,Nf5,Qa3,a6,Qb4,Qe7,Qb6,Kf7,g4,Nd6,b3,Ne4,Qa5,Qd6,a3,Qf4,Qd8,Qxf3,Qd7+,Kg6', 'Qe8+,Kg5,Qh5+,Kf4,Qf5#', 'https://lichess.org/training/cMrmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMSVv', 'Classical', 'Simalnur02', 1670, 'mman62', 1800, 'e4,c5,Nc3,e5,Bc4,Nf6,d3,Be7,Nge2,O-O,O-O,a6,a4,b6,f4,exf4,e5,Ng4,Bxf4,Bg5,Qd2,Bxf4,Qxf4,Nh6,g4,d6,g5,dxe5,Qe4,Qxg5+,Kh1,Ra7,Rg1,Qf5,Qh4,Bb7+,Nd5,Qf3+,Rg2,Nf5', 'Nf6+,Kh8,Qxh7#', 'https://lichess.org/training/cMSVv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CMTlA', 'Classical', 'Tonygere123456789', 1608, 'spriven', 1694, 'e4,d6,d4,Nf6,Nc3,g6,Bc4,Bg7,Nf3,O-O,O-O,Nxe4,Nxe4,d5,Bxd5,Qxd5,Re1,Bg4,c3,Nc6,h3,Bf5,Qe2,b6,Bf4,Rac8,c4,Qxe4,Qxe4,Bxe4,Rxe4,f5,Re2,Nxd4,Nxd4,Bxd4,Rd1,Rcd8,Rde1,Bf6,Bxc7,Rc8,Be5,Rxc4,Bxf6,exf6,b3,Rc7,Rd1,Rfc8,Ree1,Rc2,Ra1,Rd2,Red1,Rcc2,Rxd2,Rxd2,b4,Kf7,Kf1,g5,Ke1,Rd4,a3,h5,Rc1,Rd7,Rc3,g4,h4,Kg6,g3,f4,gxf4,Kf5,Rc4,Re7+,Kf1,Re4,Rc7,a5,bxa5,bxa5,Rc5+,Kxf4,Rxa5,Re5,Rxe5,Kxe5,a4,Kd6,a5,Kc6,a6,Kb6,Kg2,Kxa6,Kg3,Kb6', 'Kf4,Kc5,Kf5,Kd5,Kxf6', 'https://lichess.org/training/CMTlA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cmuSP', 'Classical', 'ArseniyPonomarev', 1692, 'Tyopka', 1609, 'e4,c5,Nf3,d5,exd5,Nf6,d4,cxd4,Qxd4,Qxd5,Qxd5,Nxd5,Bc4,Nf6,O-O,e6,Rd1,Nc6,Nc3,Nb4,Bb3,Bd7,Ne5,Rd8,Ba4,Bxa4,Rxd8+,Kxd8,Nxa4,Nxc2,Rb1,Ke7,Bf4,Nd4,Rd1,Ne2+,Kf1,Nxf4,Nc5,b6', 'Nc6+,Ke8,Rd8#', 'https://lichess.org/training/cmuSP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CMUzm', 'Blitz', 'WFM Fredericia', 2301, 'AMPaunescu', 2103, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Bd6,c5,Bc7,e3,Nbd7,Be2,O-O,O-O,Re8,b4,e5,a4,e4,Nd2,h6,Bh4,g5,Bg3,Bxg3,hxg3,Kg7,b5,Rh8,a5,h5,a6,h4,g4,h3,g3,h2+,Kh1,bxa6,bxc6,Nb8,f3,exf3,Bxf3,Nxc6,Qe2,Be6,Rxa6,Qc8,Rfa1,Bxg4,Rxc6', 'Bxf3+,Qxf3,Qxc6', 'https://lichess.org/training/CMUzm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CMV3h', 'Rapid', 'khenlk', 1679, 's_paxwell', 1662, 'd4,Nf6,Nf3,g6,Bg5,Bg7,e3,d6,Bd3,O-O,Nbd2,Nc6,c3,Nd7,Rc1,f6,Bh4,e5,dxe5,dxe5,Bb1,g5,Qb3+,Kh8,Bg3,f5,Qc2,e4,h4,exf3,hxg5,Qxg5,Nxf3,Qg6,Nh4,Qh6,Ke2,Nf6,Nxf5,Qg6,Rh3,Bxf5,Qxf5,Qxf5,Bxf5,Nd5,Be6,Nce7,Rch1,h6,Rh4,Rf6,Bxd5,Nxd5,Be5,Re6', 'Rxh6+,Rxh6,Rxh6+,Kg8,Rg6', 'https://lichess.org/training/CMV3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMw01', 'Rapid', 'germanhugo', 1767, 'wormtown', 1764, 'd4,g6,c4,Bg7,e3,d6,Nf3,a6,Bd3,b6,Bd2,Bb7,O-O,Nd7,Nc3,Ngf6,Rc1,O-O,b4,Rb8,Rb1,c5,bxc5,dxc5,d5,Qc7,Ne2,Ne5,Nxe5,Qxe5,f4,Qd6,e4,Qd7,e5,Ne8,Be3,e6,d6,Bh6,Bf2', 'Qc6,Be4,Qxe4', 'https://lichess.org/training/cMw01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMXak', 'Rapid', 'Shrill12', 2232, 'newtownboymajestic', 2142, 'Nc3,Nf6,e4,e5,f4,d6,Nf3,Nc6,Bb5,exf4,d4,Bd7,Bxf4,Be7,Qd2,O-O,O-O-O,a6,Bd3,b5,e5,Nh5,d5,Nxf4,dxc6,Nxd3+,Qxd3,Bxc6,exd6,Bxd6,Kb1,Qf6,Ne4,Bxe4,Qxe4,Rfe8,Qc6,b4,Rhe1,Rf8,Rf1,a5,g4,a4,Nd4,Qg5,h4,Qxh4,Nf5,Qh2,Rh1,Qe5,Rh5,g6', 'Nh6+,Kg7,Rxe5', 'https://lichess.org/training/cMXak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CMxu0', 'Rapid', 'Addielchess14', 1996, 'Diego1206Tellez', 1873, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h6,h5,Bh7,e6,fxe6,Bd3,Bxd3,Qxd3,Nf6,Qg6+,Kd7,Nf3,Qe8,Ne5+,Kc8,Qxe8+,Nxe8,Bf4,Nd7,Ng6,Rg8,Nd2,Nef6,Rg1,b6,Nf3,Kb7,Be5,Rc8,c3,c5,Ke2,cxd4,cxd4,Rc2+,Ke3,Nxe5,Nfxe5,Ne4,f3,Nd6,b3,Rc3+,Ke2,Nb5,Rgd1,Rc2+,Ke3,Rc3+,Kf2,Rc2+,Kg3,Nc3,Rdc1,Ne2+,Kh4,Nxc1,Nd7,Nd3,Ndxf8,Rh2+,Kg3,Rd2,Nxe6,Rc8,Nxe7,Rcc2,Rg1,Rxa2,Nxd5,Nb2,Rc1,Nd3,Rc7+,Ka6,f4,Rg2+,Kf3,Ne1+', 'Ke4,Rae2+,Kf5', 'https://lichess.org/training/CMxu0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cmYsN', 'Rapid', 'Hadi97', 1842, 'Reorks', 1873, 'c4,Nf6,d4,g6,Nf3,Bg7,Nc3,d6,Bd2,O-O,e3,Nc6,g3,Nd7,Bg2,e5,d5,Ne7,e4,b6,b4,f5,Ng5,Nf6,exf5,Nxf5,O-O,Nd4,Nce4,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/cmYsN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CmyYU', 'Classical', 'vet123', 1628, 'mr_v', 1601, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,d6,Ng5,Qe7,Bxf7+,Kd8,Nd5', 'Nxd5,Bxd5,Qxg5', 'https://lichess.org/training/CmyYU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CmzjY', 'Classical', 'Chessrock1985', 1685, 'Maximus__Max', 1639, 'e4,c6,e5,Qa5,Nf3,b6,Be2,Bb7,O-O,c5,c3,b5,Qb3,a6,d3,Bxf3,Bxf3,Nc6,Bf4,e6,Nd2,Rb8,Bxc6,dxc6,a4,b4,Nc4,Qd8,Nd6+,Bxd6,exd6,Kd7,cxb4', 'Rxb4,Qc2,Rxf4', 'https://lichess.org/training/CmzjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cMzS7', 'Rapid', 'maksim855', 2235, 'OysterBand', 2239, 'd4,e6,c4,Nf6,Nc3,Bb4,Bd2,b6,Nf3,Bb7,a3,Bxc3,Bxc3,Ne4,Qc2,d6,e3,O-O,Bd3,f5,Nd2,Nxc3,Qxc3,Nd7,O-O-O,c5,Kb1,Nf6,f3,Qe7,e4,fxe4,Nxe4,Bxe4,fxe4,e5,h3,cxd4,Qd2,Nh5,Rhf1,Rxf1,Rxf1,Rf8,Rxf8+,Kxf8,Qf2+,Qf6,Qd2,Ke7,Qb4,Nf4,Bc2,d3,Ba4,Ne2,Qb5,Qe6,c5,dxc5,Qxd3,Nd4,Qa6,Kf6,Qxa7,b5,Bd1,Qc6,Bf3,c4', 'Qxd4,exd4,e5+,Kxe5,Bxc6', 'https://lichess.org/training/cMzS7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cN0VB', 'Rapid', 'zenithankit', 1648, 'DavidLarochelle', 1643, 'e4,c5,Nf3,Nc6,Bb5,Nd4,Nxd4,cxd4,c3,dxc3,bxc3,e5,d4,exd4,cxd4,Qa5+,Nc3,Qxc3+,Bd2,Qxd4,O-O,g6,Be3,Qxd1,Rfxd1,Bg7,Rac1,a6', 'Rxc8+,Rxc8,Bxd7+', 'https://lichess.org/training/cN0VB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cN3gt', 'Blitz', 'Bastianin', 1902, 'TauMenos2Pi', 1893, 'e4,e5,f4,Bc5,Nf3,d6,c3,Nc6,d4,exd4,cxd4,Bb6,Bb5,Bd7,Nc3,Nf6,O-O,O-O,Kh1,Bg4,Bxc6,bxc6,Qd3,Re8,Bd2,Rb8,a3,c5,d5,Ba5,Rae1,Rxb2,e5,dxe5,fxe5,Nxd5,Nxd5,Bxf3,Qxf3,Rxd2,Qxf7+,Kh8,Nf6,gxf6,exf6,Rg8,Re7,Qd3,Qg7+,Rxg7', 'fxg7+,Kg8,Rf8#', 'https://lichess.org/training/cN3gt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cN61Q', 'Classical', 'Oemi', 1610, 'umut', 1616, 'd4,d5,g3,e6,Bg2,Bd6,Nf3,Bd7,O-O,Nf6,Re1,Qe7,b3,Nc6,Bb2,O-O-O,Qd3,h6,c4,dxc4,bxc4,Qf8,e4,Nb4,Qd2,Na6,a3,Be7,Qe3,Kb8,e5,Nh7,Qb3,Bc6,Rd1,Nc5,dxc5,Rxd1+,Qxd1,Bxc5,Bd4,Qe7,Nbd2,Bxf3,Qxf3,c6,Bxc5,Qxc5,Rb1,Ng5,Qxc6', 'Nh3+,Bxh3,Qxc6', 'https://lichess.org/training/cN61Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CN8pB', 'Blitz', 'Ilruggitodelconiglio', 1674, 'Mike1975', 1596, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bg4,Nbd2,Bd6,O-O,Nf6,Qe1,O-O,c3,c5,d4,Re8,dxe5,Bxe5,Nxe5,Rxe5,Nc4,Rxe4,Ne3,Bd7,Qd1,Ng4,f3,Nxe3,Bxe3,Rxe3,b4,Rxc3,bxc5,Rxc5,Qd4,Rb5,Rad1,Qe8,Qxd7,Re5,Qxc7,Re7,Qd6,Rc8,a4,Rc6,Qd8,Qf8,a5,Re8,Qd7,Qc5+,Kh1,Rf8,Qxb7,Rc7,Qd5,Qxd5,Rxd5,Rfc8,h3,Rc5,Rxc5,Rxc5,Rb1,g6,Ra1,Kg7,Kh2,Kf6,Kg3,Kf5,Kf2,h5,Ke3,Rc3+,Kd4,Rc2,g4+,hxg4,fxg4+,Kg5,Rf1,f5,gxf5,gxf5,h4+,Kxh4,Rxf5,Ra2,Kc4,Ra4+,Kb3,Ra1,Kb4,Rb1+,Kc5', 'Rb5+,Kc6,Rxf5,Kb6,Rf6+', 'https://lichess.org/training/CN8pB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CN9Ak', 'Blitz', 'KParamesh', 1639, 'jmcampbell', 1676, 'c3,f5,d4,Nf6,f3,e6,Bf4,Be7,e3,O-O,h4,b6,Bd3,Bb7,Qc2,d6,g4,fxg4,Rh2,Nbd7,fxg4,e5,g5,exf4,gxf6,Bxf6,Bxh7+,Kh8,e4,Re8,Re2,c5,Nf3,cxd4,cxd4,Bxh4+,Nxh4,Qxh4+,Kd1,Qxh7,Rh2,Bxe4,Qf2,Nf6,Nd2,Bg6,Rxh7+,Bxh7,Qxf4,Rac8,Rc1', 'Rxc1+,Kxc1,Re1#', 'https://lichess.org/training/CN9Ak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cnA1K', 'Rapid', 'Tihany', 1788, 'Haris1983', 1877, 'e4,c5,d4,cxd4,c3,dxc3,Nf3,g6,e5,Bg7,Nxc3,Nc6,Bc4,Qc7,Qd5,e6,Qd6,Qxd6,exd6,Ne5,Nb5,Rb8,Nc7+,Kd8', 'Bg5+,Nf6,Nxe5', 'https://lichess.org/training/cnA1K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CNAB8', 'Blitz', 'juniorfuzah', 2068, 'GMDiatlov', 2065, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,f4,Bg4,Nf3,Nc6,c3,Qc7,O-O,e6,Qe1,Bxf3,Rxf3,Bd6,Be3,O-O,h3,Qb6,Qd2,Na5,g4,Nc4,Bxc4,dxc4,Qc2,Qc6,Nd2,b5,Raf1,a5,g5,Nd5,Qe4,Ra6,f5,exf5,Rxf5,Nxe3,Qxe3,Bc7,Qf2,Qd7,Ne4,Rg6,h4,Qe8,Qf3,Re6,Nf6+,gxf6,gxf6,Kh8,Rh5,Rg8+,Kh1,Re3', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/CNAB8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cnAbT', 'Rapid', 'abrakadabraaaa', 1722, 'courage212', 1678, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Nc3,Bf5,a3,Nf6,Be2,e6,O-O,Bd6,h3,O-O,Nh4,Bg6,Nxg6,fxg6,Bf3,a6,Re1,Qc7,Rxe6,Rae8,Nxd5,Nxd5,Bxd5,Rxe6,Bxe6+,Kh8,d5,Bh2+,Kf1,Qg3,Be3,Qxe3,Qe1,Qf4,dxc6,Bg3,Rd1,Bxf2,Qe2,Qh2,Qxf2', 'Qh1+,Ke2,Rxf2+,Kxf2,Qxd1', 'https://lichess.org/training/cnAbT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cNCFt', 'Rapid', 'SahteNaka', 1821, 'Zoecir', 1789, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,Nc3,c5,d3,h6,a3,Nf6,Be3,Be7,h3,O-O,Qd2,Kh7,O-O-O,Nc6,g4,b5,g5,Nh5,gxh6,Nf4,hxg7,Kxg7,Ne2,b4,Nxf4,exf4,Bxf4,bxa3,Bh6+,Kf7,bxa3,Rg8,Qf4+,Ke8,Rhg1,Rxg1,Rxg1,Kd7,Rg7,e5,Qf5+,Kc7,Bg5,Kb6,Nd2,Bxg5,Rxg5,Nd4,Nc4+,Kb5,Qg6,Nf3,Nxd6+,Ka4,Nc4', 'Qxg5+,Qxg5,Nxg5', 'https://lichess.org/training/cNCFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CNcoQ', 'Rapid', 'Fahriadi', 1650, 'Kaushikd183', 1649, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Nc6,Bb5,a6,Ba4,h6,O-O,Bg4,h3,Bh5,c4,e6,cxd5,exd5,Re1+,Be7,Nc3,O-O,Bb3,Bb4,a3,Ba5,Bd2,Bxf3,Qxf3,Nxd4,Qxd5,Nxb3,Qxb3,Qxd2,Rad1,Qf4,Re4,Qf5', 'Rd5,Qg6,Rxa5', 'https://lichess.org/training/CNcoQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cNCZU', 'Blitz', 'k-07', 1636, 'molchun', 1667, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,O-O,h6,h3,d6,a3,a6,c3,Be6,Bxe6,fxe6,Qb3,d5,Qxb7,O-O,Qxc6,Bd6,Nbd2,d4,c4,Nh5,Qa4,Nf4,Qc2,g5,c5,Be7,Nxe5,g4,Nxg4,Bh4,Nf3,Nxh3+,Kh2,Nf4,Bxf4,Rxf4,Qe2,Rxg4,g3,Bxg3+,fxg3,Kh7,Qg2,Qf6,Nh4,Qg5,Kh3,Rg8,Rf7+,Kh8,Rf3', 'Rxh4+,gxh4,Qxg2#', 'https://lichess.org/training/cNCZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cne5m', 'Rapid', 'anobalita77', 1873, 'arsenalfanrichi', 1882, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,Nf3,Bb4,O-O,Nge7,a3,Bxc3,bxc3,O-O,Ng5,d5,exd5,Nxd5,Bd3,h6,Ne4,f5,Nc5,b6,Na4,Ne5,Bc2,Bd7,Re1,Bxa4,Bxa4,Nxc3,Qb3,Nxa4,Qxa4,Qd5,Bb2,Nd3,Re2,Nxb2,Rxb2,e5,Rd1,Qf7,Rd7,Rfc8,h3,Qc4', 'Rd8+,Rxd8,Qxc4+', 'https://lichess.org/training/cne5m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cnecu', 'Rapid', 'beerjets', 1858, 'ohir2789', 1903, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,g6,Bb5,Bd7,Be3,Bg7,O-O,Nf6,f4,O-O,Nce2,Nxe4,c3,a6,Bd3,Nc5,Bc2,Nxd4,Nxd4,Ne6,f5,Nxd4,Bxd4,Bc6,Bxg7,Kxg7,Qg4,Qb6+,Kh1,Bd7,Qg5,d5,Rae1,Qf6,Qg3,Qd6', 'f6+,Qxf6,Rxf6', 'https://lichess.org/training/Cnecu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cnGhM', 'Blitz', 'TimGrundyLAET', 1958, 'Bony_BKD', 2105, 'Nf3,d5,e3,Nf6,c4,Nc6,d4,Bf5,a3,Qd7,Nc3,h5,b4,Ne4,Bb2,Nxc3,Bxc3,a5,b5,Nd8,Ne5,Qd6,c5,Qf6,Bd3,e6,O-O,c6,a4,Bxd3,Qxd3,Qf5,Qxf5,exf5,f3,Be7,Rae1,O-O,e4,fxe4,fxe4,Bf6,Nd7,Re8,Nxf6+,gxf6,exd5,Rxe1,Rxe1,Kf8,dxc6,bxc6,Kf2,Ne6,bxc6,Rd8,Bxa5,Rxd4,c7,Rf4+,Kg3', 'h4+,Kh3,Ng5#', 'https://lichess.org/training/cnGhM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CnHkA', 'Rapid', 'Aveyron', 1666, 'cosmarencos', 1601, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,Qxd4,Be3,Qe5,O-O-O,Bg4,Qxb7,Qxe3+,Kb1,Bxd1,Qxa8,Bxc2+,Kxc2,Nd7,Bb5,Qf2+,Nge2,e5,Rd1,Qf5+,Bd3,Qe6,Qb7,Bd6', 'Qc8+,Ke7,Qxh8', 'https://lichess.org/training/CnHkA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CnHRy', 'Rapid', 'NicolasBelchior', 1800, 'Inverso', 1772, 'd4,d5,c4,c6,Nf3,Nf6,Bg5,Bf5,e3,e6,cxd5,cxd5,Bb5+,Nc6,Nc3,h6,Bh4,Be7,O-O,O-O,Bg3,a6,Ba4,b5,Bb3,Ne4,Nxe4,Bxe4,Bc2,Bxc2,Qxc2,Nb4,Qd2,Rc8,Rac1,Nxa2,Ra1,Nb4,Rac1,Bd6', 'Rxc8,Qxc8,Bxd6', 'https://lichess.org/training/CnHRy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cNILD', 'Rapid', 'hhlb', 1681, 'Malcomthemounty', 1643, 'd4,d5,c4,Bf5,Nc3,dxc4,e3,Bd3,Bxd3,cxd3,Qxd3,e6,Qb5+,c6,Qxb7,Nd7,Qxc6,Rc8,Qa4,a5,Nf3,Bb4,Ne5,Rxc3,bxc3,Bxc3+,Ke2,Bxa1,Nxd7,Qxd7,Qxd7+,Kxd7,Ba3,Bc3,Rc1,Bb4,Bxb4,axb4,Rc4,Nf6,Rxb4,Rc8,a4,Nd5,Rb7+,Kc6,Rxf7,Rc7,Rf8,Nc3+,Kd3,Nxa4,Ra8,Nb6,e4,Kb7,Ra2,Nc4,d5,exd5,exd5,Ne5+,Kd4,Ng4,h3,Nf6,Rb2+,Kc8,Rb6,Kd7,g4,h6,f4,Ke7', 'd6+,Kd7,dxc7', 'https://lichess.org/training/cNILD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cNjcY', 'Blitz', 'CM rocky73', 2301, 'Alhov', 2203, 'd4,Nf6,c4,e6,g3,d5,Nf3,Be7,Bg2,O-O,O-O,dxc4,Qc2,a6,a4,Bd7,Rd1,Bc6,Nc3,Nbd7,e4,b5,d5,exd5,e5,Ne4,Nxd5,Bxd5,Rxd5,Nec5,axb5,axb5,Rxa8,Qxa8,Rxd7,Nxd7,Ng5,Bxg5,Bxa8,Bxc1,Bc6,Nxe5,Bxb5,Rb8,Bxc4,Bxb2,Qe4,c5,Bd5,Bd4,Kf1,Rb2,f4,Rf2+,Ke1,Nf3+,Kd1,Kf8,Bc6,g6,h4,Rf1+,Kc2,Rf2+,Kc1', 'Bb2+,Kb1,Nd2+,Kxb2,Nxe4+', 'https://lichess.org/training/cNjcY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CnL6M', 'Rapid', 'sasha1972', 1705, 'Zdenkos', 1804, 'e4,e5,Nf3,Qf6,Nc3,c6,d4,exd4,Bg5,Qg6,Qxd4,b6,O-O-O,Bc5,Qd2,Bb4,Ne5,Qe6,Bf4,Bxc3,Qxc3,b5,Kb1,f6,Nf3,Ne7,Bd3,O-O,Rhe1,Ng6,Bxb8,Rxb8,a4,a6,Nd4,Qe5,g3,c5,Ne2,Qxc3,Nxc3,c4,Bf1,Ne5,axb5,axb5,Be2,Rd8,b3,d6,b4,Bg4,Bxg4,Nxg4,h4,Nxf2,Rd2,Ng4,Rd4,Ne5,Rf1,Kf7,g4,Nxg4,e5,Nxe5,Rfd1,Ke6,Ne2,g5,hxg5,fxg5,Rh1,Rd7,Rh6+,Ng6,Re4+,Kf6,Nd4,d5,Re6+,Kg7,Nf5+,Kf7,Re3,Re8', 'Rxh7+,Kf6,Rxd7', 'https://lichess.org/training/CnL6M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CnLLJ', 'Blitz', 'sohrab-shamsaldini', 1878, 'Pol27ecekiel', 1837, 'e4,c5,Nf3,e6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Nc6,a3,d6,Bd3,dxe5,dxe5,O-O,O-O,Qc7,Bxh7+,Kxh7,Ng5+,Kh8,Qd3,g6', 'Qh3+,Kg7,Qh7#', 'https://lichess.org/training/CnLLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CNNCp', 'Blitz', 'XaqueMate', 2226, 'jorgellanoss', 2416, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,e5,c3,Nf6,Nxf6+,gxf6,Ne2,Bf5,g3,Be4,Rg1,Nc6,Be3,Qd5,dxe5,fxe5,Qxd5,Bxd5,O-O-O,O-O-O,Bh3+,Kb8,c4,Bxc4,Rxd8+,Nxd8,Rd1,Bd6,Nc3,a6,Ne4,Be7,Bc5,Bxc5,Nxc5,Nc6,b3,Be6,Nxe6,fxe6,Bxe6,Nd4,Bg4,Rf8,f4,Nc6,fxe5,Nxe5,Be2,Rf2,Re1,Rxh2,Bxa6,Nf3,Re8+,Ka7,Bc4,Rxa2,Re7,Kb6,Rxh7,Rg2,Rg7,Nd4,g4,c6,g5,Kc5,g6,Kb4,Rxb7+,Kc3,Kd1', 'Rg1+,Bf1,Rxf1#', 'https://lichess.org/training/CNNCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cNoPX', 'Rapid', 'lurtrester', 1975, 'mehdisov', 1795, 'e4,c5,Nf3,e6,c3,Nc6,Bb5,d6,O-O,a6,Ba4,b5,Bc2,c4,b3,cxb3,axb3,Nf6,d4,Be7,h3,O-O,Be3,Bb7,Qd3,e5,Nbd2,exd4,Nxd4,Ne5,Qe2,Qc7,f4,Ned7,Rac1,Nc5,e5,dxe5,fxe5,Qxe5,b4,Nce4,Rf5,Ng3', 'Rxe5,Nxe2+,Nxe2', 'https://lichess.org/training/cNoPX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cNPAV', 'Blitz', 'funebrero93', 1751, 'a-s-h-i-s-h', 1783, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Bd2,Qxb2,Nc3,Qa3,e3,a6,Bc4,Bc5,O-O,Nge7,Ne4,Bb6,Bxf7+,Kxf7,Nfg5+,Ke8,Qh5+,g6', 'Nf6+,Kf8,Qh6#', 'https://lichess.org/training/cNPAV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cnRBf', 'Rapid', 'LM PeshkaCh', 2520, 'jpboyeras', 2338, 'e4,d6,Nc3,Nf6,g3,g6,Bg2,Bg7,d3,O-O,Nge2,c5,h3,Nc6,Be3,Nd7,O-O,Nd4,Qd2,Rb8,Nd1,b5,c3,Nxe2+,Qxe2,b4,d4,bxc3,bxc3,Qa5,Qd2,cxd4,Bxd4,Ba6,Re1,Ne5,Ne3,Nc4', 'Nxc4,Bxc4,Bxg7,Kxg7,Qd4+,Qe5,Qxc4', 'https://lichess.org/training/cnRBf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cnSGy', 'Blitz', 'navid_mohammadpour', 1836, 'yhjj', 1879, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bg5,Be7,Bxf6,Nxf6,Ng3,c5,dxc5,Qa5+,Qd2,Qxc5,Bd3,O-O,O-O,Rd8,Qe2,b6,Be4,Nxe4,Nxe4,Qc7,Nfg5,Bb7,Qh5,Bxg5,Nxg5,h6,Nf3,Rd5,Qh3,Rad8,c3,Rd3,Qg4,Bxf3,gxf3,Qc6,Kg2,R8d5,Qe4,Qc8,h4,Qd7,Kh1,Rf5,Rg1,Rdxf3,Rg2,R5f4,Qa8+,Kh7,Rag1,Rxh4+,Rh2,Rhf4', 'Rxh6+,gxh6,Qg8#', 'https://lichess.org/training/cnSGy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CnsUu', 'Rapid', 'KilicNurullah56', 2023, 'Meyildiz72', 2182, 'd4,Nf6,Nf3,d6,g3,Bg4,Bg2,Qc8,O-O,Bh3,Nbd2,Bxg2,Kxg2,h5,h4,Ng4,b3,Nd7,Bb2,f6,e4,g5,hxg5,fxg5,Nxg5,Ndf6,e5,Qf5,Ndf3,Nd5,Qe2,h4,Qb5+,c6,Qxb7,Rc8,Nxh4,Rxh4,gxh4,Nf4+,Kh1,Bh6,e6,Rd8,Qxc6+,Kf8,Qe4,Qxe4+,Nxe4,d5,Ng5,Bxg5,hxg5,Kg7,f3', 'Rh8+,Kg1,Ne2+,Kg2,Rh2#', 'https://lichess.org/training/CnsUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CnT39', 'Rapid', 'Arlekhuin', 2130, 'Yury_Drakakhrust', 2171, 'c4,e6,Nc3,f5,e4,fxe4,Nxe4,Nf6,Nxf6+,Qxf6,d4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Nf3,Nc6,Bd3,d6,O-O,e5,d5,Ne7,Qc2,Bf5,Nd2,Qg6,Ne4,Kh8,Rae1,Ng8,Re3,Nf6,Rg3,Qh5,Nxf6,Rxf6,Bxf5,Rxf5,Qb3,b6,Qa4,Qe8,Qc2,Rf4,Rh3,g6,Re1,Qf7,Ra3,a5,f3,Rf8,Rae3,g5,Rf1,g4,Qe2,e4,Rxe4,gxf3,gxf3,Qg6+,Qg2,Qh6,Kh1,Rxf3,Qxf3,Rxf3,Rxf3', 'Qc1+,Kg2,Qc2+,Kg3,Qxe4', 'https://lichess.org/training/CnT39');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CNu6d', 'Blitz', 'GM dhfernandez', 2678, 'GM Obiwankanoebi', 2513, 'e4,g6,h4,h5,Nf3,Bg7,d4,c5,dxc5,Qa5+,Nc3,Bxc3+,bxc3,Qxc3+,Bd2,Qxc5,Bd3,Nf6,Ng5,d6,O-O,Nbd7,Qc1,O-O,Qb2,b6,Be3,Qc7,a4,Bb7,f3,Rfc8,Rfb1,Nc5,a5,bxa5,Qb5,Ba6,Qxa5,Bxd3,cxd3,Nxd3,Bd4,Qxa5,Rxa5,Nd7,Rb7,Rd8,Raxa7,Rxa7,Rxa7,Nf4,Be3,Ne6,Kf2,Nxg5,Bxg5,f6,Bd2,Kf7', 'Ba5,Rb8,Rxd7', 'https://lichess.org/training/CNu6d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cnVHw', 'Classical', 'Aarushvinod', 2016, 'MeredithFeiner', 2007, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,Bb4,f3,d5,exd5,Nxd5,Bd2,Nxc3,bxc3,Bd6,Bd3,Qb6,Qe2,Nc6,Be3,Qc7,O-O,Be6,Qf2,f5,Bc5,O-O,Rad1,e4,Bxd6,Qxd6,Bxa6,Qc7,Bb5,exf3,Qxf3', 'Qb6+,Qf2,Qxb5', 'https://lichess.org/training/cnVHw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CnVsu', 'Blitz', 'salahelsayes', 1915, 'karo6', 2036, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Be7,d3,exf4,Bxf4,Nf6,O-O,O-O,Nc3,Bg4,Qd2,a6,h3,Bh5,a3,Bg6,Bg5,h6,Bxh6,Ne5,Nxe5,dxe5,Bg5,Bxe4,Bxf6,Qd4+,Kh1,Bxf6,Nxe4,Bh4,c3,Qd8,g3,Be7,Qe2,Bd6,Nxd6,cxd6,Qh5,Qd7,Bd5,Rae8,Rf2,Re7,Raf1,b5,c4,bxc4,dxc4,e4,Re2,Re5,Qh4,g6,Rxe4,Rh5,Qf4', 'Qxh3+,Kg1,Qh2#', 'https://lichess.org/training/CnVsu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cNxRq', 'Blitz', 'pvtvendetta', 1533, 'AUroach', 1554, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nf6,Bc4,e6,O-O,Bd6,Ne5,Bxe5,dxe5,Nd5,c3,Nd7,Qf3,Nxe5,Qe2,Nxc4,Qxc4,O-O,Bf4,Nxf4,Qxf4,Qb6,b3,Rad8,Rad1,Rd5,Rxd5,cxd5,Rc1,Rc8,c4,dxc4,Rxc4,Rxc4', 'Qb8+,Rc8,Qxc8+,Qd8,Qxd8#', 'https://lichess.org/training/cNxRq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cNyeF', 'Blitz', 'Kobemamba', 1613, 'Xantippe_it', 1515, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,d6,h3,h6,Be3,Bxe3,fxe3,b6,g4,Nb4,g5,hxg5,Nxg5,Be6,Bxe6,fxe6,Nxe6,Qe7,Ng5,Nd7,h4', 'Qxg5,hxg5,Rxh1+,Kd2,Rxd1+', 'https://lichess.org/training/cNyeF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Co1a2', 'Rapid', 'chesskylonnn', 2068, 'Eurekatimes', 2044, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nc3,Bb4,Nb5,Qxe4+,Be2,Ba5,O-O,Qf5,Bg4,Qf6,Nd5,Qd8,b4,Bb6,Re1+,Nge7,Bg5,f6,Nxf6+,gxf6,Bxf6,Rf8,Bh5+,Rf7,Bxf7+,Kxf7,Bb2,a6,Qh5+,Kg8,Rad1,axb5,Rd3,Ng6,Rd2,d6,Rde2,Bd7,Kh1,Qh4,Qf3,Rf8,Qd5+,Rf7,g3,Qc4', 'Re8+,Bxe8,Rxe8+,Nf8,Qg5+,Rg7,Qxg7#', 'https://lichess.org/training/Co1a2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cO2DY', 'Rapid', 'staldmester', 2121, 'hakan6134', 2212, 'e4,d6,Nf3,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,d3,c6,Bg5,b5,Bb3,Nbd7,a4,Nc5,axb5,Nxb3,cxb3,cxb5,Nxb5,Qb6,Nc3,Be6,Ra3,Rfb8,Na4,Qb5,Nd4', 'Qxg5,Nxe6,fxe6', 'https://lichess.org/training/cO2DY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Co37d', 'Rapid', 'frandiable', 1754, 'lionheartrich', 2004, 'e4,e5,Nf3,f5,Nxe5,Qf6,d4,d6,Nc3,dxe5,Nd5,Qd6,dxe5,Qxe5,g3,Qxe4+,Be3,Bd6,Rg1,Ne7,Bg2,Qe6,Nxe7,Qxe7,Qh5+,g6,Qh6,Bd7,O-O-O,Nc6,Bg5,Qf7,Rge1+,Ne7,Qh4,O-O-O,Rxd6,cxd6,Bxe7,Rde8,Bxb7+,Kxb7,Qb4+,Ka8,Qxd6,Qxa2,Qxd7,Qa1+,Kd2,Qa5+,c3,Rd8', 'Bxd8,Rxd8,Re8', 'https://lichess.org/training/Co37d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Co6JW', 'Blitz', 'alexalex9494', 1714, 'Timepass1979', 1674, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Qe7,cxd4,d6,Bb5,Bd7,Bxc6,bxc6,O-O,dxe5,dxe5,Nd5,Bg5,Qe6,Nc3,Nxc3,bxc3,Bc5,Nd4,Bxd4,Qxd4,O-O,Rfd1,Bc8,Qc5,Qg6', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/Co6JW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CO6NJ', 'Blitz', 'mkmfms', 1719, 'krashr', 1686, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e3,d5,cxd5,Nxd5,Nxd5,Qxd5,b3,c5,Bc4,Qd8,O-O,Nc6,Bb2,cxd4,Bxd4,Nxd4,exd4,Bg4,Rc1,Bxd4', 'Qxd4,Bxf3,Qxd8,Raxd8,gxf3', 'https://lichess.org/training/CO6NJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cO6Ws', 'Classical', 'Dirk52', 1890, 'Ojay_jonathan', 1872, 'e4,e6,d4,d5,e5,c5,c3,Qa5,Nf3,cxd4,Nxd4,Qc7,Nd2,Qxe5+,Be2,Nc6,N2f3,Qc7,O-O,a6,Bd3,Nf6,Re1,Be7,Bg5,Nxd4,cxd4,Bd7,Rc1,Qb6,b3,Bb5,Bb1,Bd7,Ne5,Qd8,Bxf6,Bxf6,Re3,g6,Rh3,Bxe5,dxe5,Qg5,Qe1,O-O,Rg3,Qe7,Rd1,Rac8,Qd2,Rfd8,Qh6,Qf8,Qg5,Qg7,h4,h5,Rd4,Bb5,Kh2,Be8,Bd3,Rd7,Be2,Rdc7,Bxh5,Rc3,Bf3,Kh7,h5,Qh6,Qxh6+,Kxh6,hxg6,fxg6,Rh4+,Kg7,Bh5', 'Rxg3,Kxg3,gxh5', 'https://lichess.org/training/cO6Ws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cO8bx', 'Rapid', 'Mikalai_Rataika', 2029, 'kss_68', 1963, 'd4,Nf6,Nf3,e6,c4,d5,Bg5,Nbd7,cxd5,exd5,Nc3,Bb4,Bxf6,Nxf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/cO8bx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cO99l', 'Rapid', 'kavkazugo', 1767, 'Noxun', 1828, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,c3,Bf5,Be2,Nc6,Bf3,Qd6,Ne2,O-O-O,O-O,e5,b4,h5,g3,e4,Bg2,f6,b5,Ne5,Nd4,Be6,Bxe4,f5,Bxf5,Bxf5,Nxf5,Qd5,Nd4,a6,bxa6,bxa6,f3,g5,Qb3,Bc5,Qxd5,Rxd5,Kg2,Bxd4,cxd4,Rxd4,Bb2', 'Rxd2+,Rf2,Rxf2+,Kxf2,Nd3+,Ke3,Nxb2', 'https://lichess.org/training/cO99l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('coaDo', 'Blitz', 'drolek', 1903, 'Lucio1579', 1952, 'e4,c5,c3,e5,Bc4,d6,d3,Nf6,f4,exf4,Bxf4,Be7,Nf3,Bg4,O-O,O-O,Qd2,d5,exd5,Nxd5,Bg3,Nc6,Na3,Na5,Rae1,Bf6,Ne5,Nxc4,Naxc4,Be6,a4,Nb6,Nxb6,axb6,Qc2,Qd5,Nc4,Qc6,b3,Rad8,Re2,b5,axb5,Qxb5,Rfe1,Bxc4,dxc4,Qc6,Qf5,b5,cxb5,Qxb5,Be5,Bxe5,Rxe5,Qxb3,Rxc5,Rde8,Rf1,Re2,Rc7,Qa2,Rf2,Re1+,Rf1,Re2,Rf2,Qa1+,Rf1,Qb2', 'Qxf7+,Rxf7,Rc8+,Re8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/coaDo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CoBLi', 'Classical', 'chess2020li', 1752, 'claudiomexico', 1709, 'd4,Nf6,c4,d6,Nc3,Bf5,e3,Nc6,a3,e6,Nf3,h6,Be2,Be7,Nh4,Bh7,O-O,Ne4,Nf3,Nf6,Bd3,a6,e4,e5,d5,Nd4,Be3,Nxf3+,Qxf3,Qd7,h3,Bg6,Qg3,Nh5,Qh2,Nf6,Rae1,Nh7,f4,exf4,Bxf4,Bf6,Qg3,O-O-O,e5,dxe5,Bxg6,fxg6,Bxe5,Bxe5,Rxe5,g5,h4,Rde8,Ref5,Nf6,hxg5,hxg5,Qxg5,Rh5,Qg6,Rh6,Qg3,Reh8,Rg5,Rh1+,Kf2,Rxf1+,Kxf1,Rg8,c5,Nxd5,Rxd5,Qf7+,Kg1,Kb8,Qg4,Rf8,Rd1', 'Qf2+,Kh2,Rh8+', 'https://lichess.org/training/CoBLi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('COBuj', 'Rapid', 'Farwizahyaakup', 1938, 'ArkajitKar', 1905, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bf4,d6,e3,c5,Bd3,Nc6,O-O,Nd7,Bc2,cxd4,Nxd4,Nb4,a3,Nxc2,Qxc2,e5,Bxe5,dxe5,Nf3,Nc5,Rfd1,Qe7,b4,e4,Nd4,Nd3,f3,Bxd4,exd4,Nf4,Nxe4,Bf5,Re1,Bxe4,Rxe4,Qg5,Re5,Qf6,Qd2,Rfe8,Rae1,Rxe5,dxe5,Qf5,g4,Nh3+,Kg2,Nf4+', 'Kg3,Qd3,Qxf4', 'https://lichess.org/training/COBuj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CoCcd', 'Rapid', 'Lukasel', 1910, 'kveta2017', 1885, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,d4,exd4,Nxd4,Bd7,Nc3,Be7,f4,Nxd4,Bxd7+,Qxd7,Qxd4,O-O,Be3,Ng4,Rad1,c6,Ne2,Qc7,Bc1,Bf6,Qxd6', 'Qb6+,Qd4,Bxd4+', 'https://lichess.org/training/CoCcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('COds0', 'Rapid', 'FYEO', 1799, 'FrancisquinhoGja', 1697, 'd4,e6,c4,Nf6,a3,d5,Nc3,c6,f3,dxc4,e4,b5,Nge2,a6,g4,Be7,Ng3,Nbd7,Bg2,Bb7,O-O,O-O,h4,Re8,g5,Nb6,gxf6,Bxf6,e5,Bxh4,Nge4,Nd5,Nd6,Re7,Nce4,Rd7,f4,Rb8,f5,Be7,fxe6,fxe6,Qg4,Nc7,Nf7,Qe8,Bg5,Bxg5,Nexg5,h6,Be4,hxg5,Bh7+,Kxh7', 'Qh5+,Kg8,Qh8#', 'https://lichess.org/training/COds0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cODs8', 'Rapid', 'Chessbeginner32019', 1785, 'BigBlackGian', 1847, 'e4,e6,f4,d5,exd5,exd5,Nf3,Nf6,d4,Nc6,Bd3,Be7,O-O,Bd7,c3,O-O,Ne5,Nxe5,fxe5,Ne8,Qh5,g6,Qh6,Ng7,Nd2', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/cODs8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cOei4', 'Rapid', 'Ikllu', 1904, 'albertli', 1726, 'b4,e5,Bb2,d6,c4,f5,Nf3,Nf6,e3,e4,Ng5,h6,Nh3,d5,a3,g5,cxd5,Qxd5,Nc3,Qe6,Be2,Bg7,Bh5+,Nxh5,Qxh5+,Qf7,Qd1,Be6,Qa4+,c6,Ng1,O-O,Qd1,Nd7,Nge2,Ne5,O-O,Nd3,Qb1,f4,f3,Bc4,fxe4,Nxb2,exf4,Bd3,Qe1,gxf4,Rxf4,Bd4+,Kh1,Qc4,Rg4+,Kh7,Rc1,Bxe2,Nxe2,Qe6,Qg3,Be5,Qh3,Rg8', 'Rg7+,Bxg7,Qxe6', 'https://lichess.org/training/cOei4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cof10', 'Rapid', 'cocinda', 1661, 'sapeg', 1600, 'e4,Nc6,d3,g6,c3,Bg7,Be2,b6,h4,Bb7,h5,Nf6,h6,Bf8,g3,Ng8,f4,f5,g4,fxg4,f5,Ne5,Bxg4,Nxg4,Qxg4,Nf6,Qh4,e6,Bg5,Be7,fxg6,hxg6,h7,Nxh7,Qh6,Bxg5,Qxg6+,Kf8,Rxh7,Qf6', 'Rxh8+,Qxh8,Qxg5', 'https://lichess.org/training/Cof10');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cohZj', 'Rapid', 'Spencer_Villarosa', 1861, 'Mythen', 1748, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,d3,a6,h3,O-O,a4,b6,Be3,Nbd7,Re1,Bb7,Nc3,c5,Nh4,Nxe4,Nf5,Nxc3,Nxe7+,Qxe7,bxc3,Nf6,Rb1,Qc7,Bg5,Qc6,f3,Nd5,Bxd5,Qxd5,Rxb6,Bc6', 'c4,Qe6,Rxc6,Qd7,Rb6', 'https://lichess.org/training/cohZj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Coj4c', 'Rapid', 'Corderopastor', 1950, 'CapivaraTL', 1881, 'd4,Nf6,c4,c5,e3,g6,Nc3,Bg7,Nf3,O-O,Be2,d6,h3,a6,O-O,Bd7,b3,Nc6,Bb2,Rb8,a3,Na7,Qc2,b5,Rfd1,cxd4,Nxd4,bxc4,Bxc4,Qb6,Qe2,Nb5,a4,Nxd4,exd4,a5,Nd5,Nxd5,Bxd5,Rfe8,Qf3,e6,Bc4,d5,Bd3,Qxb3,Rdb1,Bxa4,Ba3,Qc3,Bd6,Rxb1+,Rxb1,Rc8,Rb7,f5,Qg3,Bxd4,Bxf5,Qxg3,Bxe6+,Kh8,Bxg3,Bc6', 'Bxc8,Bxb7,Bxb7', 'https://lichess.org/training/Coj4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('colpv', 'Rapid', 'Player-Youss', 1646, 'nahtan26', 1648, 'e4,e6,d4,d5,Nc3,Nf6,Bd3,c5,dxc5,Bxc5,Bg5,Be7,Bf4,a6,e5,Nfd7,Nf3,O-O,Nd4,Nc6,Nxc6,bxc6,Qg4,Re8,Qh3,g6,O-O-O,Bg5,g3,Nxe5,Be2,a5', 'Bxg5,Qxg5+,f4,Qf6,fxe5', 'https://lichess.org/training/colpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CoN15', 'Rapid', 'amaks', 1680, 'SovietPaella', 1704, 'd4,d5,Bf4,Bf5,e3,e6,h4,h6,g4,Bh7,Nf3,Bd6,Bxd6,cxd6,Nc3,Nf6,Bb5+,Nc6,g5,Ne4,Nxe4,dxe4,Nd2,a6,Bxc6+,bxc6,Qg4,d5,Nb3,Bf5,Qg3,hxg5,Qxg5', 'Qxg5,hxg5,Rxh1+', 'https://lichess.org/training/CoN15');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('coniF', 'Rapid', 'iamtall', 1840, 'riki2', 1795, 'Nf3,d5,g3,e6,Bg2,h6,b3,Nf6,c4,c6,Bb2,Nbd7,O-O,Be7,d4,O-O,Ne5,Nxe5,dxe5,Nh7,cxd5,cxd5,e4,dxe4,Bxe4,Qxd1,Rxd1,Rd8,Nc3,Ng5,Bg2,Rb8,f4,Nh7,Rxd8+,Bxd8,Rd1,Be7,Ne4,b6,Nd6,Ba6,b4,Be2,Rd2,Bg4,b5,g5,Bc6,Rd8,Ba3,Nf8,Kf2,Ng6,Ke3,gxf4+,gxf4,Nh4,Bb4,Nf5+', 'Nxf5,Bxf5,Bxe7,Rxd2,Kxd2', 'https://lichess.org/training/coniF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('COnnp', 'Blitz', 'G8rsDomin8', 1753, 'Uzhupis', 1735, 'd4,d5,Nc3,e6,e4,dxe4,Nxe4,Nc6,Nf3,Nf6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Be2,O-O,O-O,Ne7,c4,Ng6,Re1,c6,d5,cxd5,cxd5,Nf4,d6,Qg6,g3,Nxe2+,Rxe2,Qf5,Re5,Qg4,Rg5,Qb4,Rb1,Bd7,a3,Qb6,Ne5,Rad8,Qg4,g6,h4,Qxd6,h5,f5,Rxg6+,Kh8', 'Rg8+,Rxg8,Nf7#', 'https://lichess.org/training/COnnp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cOpNI', 'Rapid', 'N3ur0na1pl4sticity', 1774, 'erdmal', 1787, 'e4,b6,d3,Bb7,Nf3,e6,g3,h6,Bg2,Ne7,Nbd2,Ng6,O-O,Be7,Re1,Bf6,e5,Be7,d4,h5,h4,d6,Ne4,dxe5,dxe5', 'Qxd1,Rxd1,Bxe4', 'https://lichess.org/training/cOpNI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CoQQf', 'Rapid', 'Fastandf', 1727, 'gino-c', 1688, 'e4,c6,d4,b5,Nc3,Bb7,Nf3,a6,a3,h6,Be2,e6,Bf4,d6,O-O,Nd7,d5,e5,Be3,c5,b4,c4,h3,Ne7,Nh2,Ng6,f4,exf4,Bxf4,Nxf4,Rxf4,Qg5,Rf1,Qe3+,Kh1,Qxc3,Nf3,Qf6,a4,Qd8,axb5,axb5,c3,g5,Nd2,Ne5,Bh5,Bg7,Nf3,O-O,Nxe5,Bxe5,Qd2,f6,Bg4,Kg7,Be6,Rxa1,Rxa1,Qb8,Bf5,Bc8,Bxc8,Rxc8,Qf2,Bxc3,Ra7+,Rc7,Ra6,Bxb4,h4,Bc5,Qg3,Rd7,hxg5,hxg5,Qh3,Qb7,Ra2,Re7,Qf5,Bd4,Rd2,Be5,Re2,b4,Re3,c3,Rh3,Kg8', 'Qg6+,Rg7,Qe8#', 'https://lichess.org/training/CoQQf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('coqvo', 'Rapid', 'Trylanterino', 1684, 'HarshalN', 1710, 'Nf3,c5,g3,Nc6,Bg2,d6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,g6,Be3,Bg7,Qb4,Rb8,O-O,b6,Nb5,a5,Qc4,Ba6,Qc6+,Nd7', 'Nc7+,Kf8,Nxa6', 'https://lichess.org/training/coqvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('coSls', 'Rapid', 'skills77', 1677, 'legendaryfatguy', 1726, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,Bxe4,Bxe4,Nf6,Bd3,Nbd7,O-O,e5,Re1,Bd6,b3,O-O,Bb2,Re8,Bc4,e4,Ng5,Nd5,Bxd5,cxd5,Nxf7,Kxf7,Qh5+,Kg8', 'Qxd5+,Kh8,Qxd6', 'https://lichess.org/training/coSls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('COTrX', 'Rapid', 'kouyache20', 2036, 'ebra999', 2006, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Be3,Qc7,Qd2,Nf6,f3,Be7,O-O-O,b5,Nxc6,Qxc6,e5,Ng8,Ne4,Bb7,Bd3,Rc8,Kb1,b4,Bd4,Nh6,Nd6+,Bxd6,exd6,O-O,Qg5,e5,Bxe5', 'f6,Qd2,fxe5', 'https://lichess.org/training/COTrX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cOTv8', 'Blitz', 'Terc', 2038, 'flaschenhals75', 2148, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,c5,c3,Nc6,Bd3,Bd6,Ne5,Bxe5,Bxe5,Nxe5,dxe5,Nd7,f4,Qh4+,g3,Qh3,Qf3,O-O,Nd2,f6,exf6,Rxf6,g4,Qh4+,Qg3,Qxg3+,hxg3,e5,Bxh7+,Kf8,g5,Rb6,O-O-O,d4,Nc4,Ra6,exd4,exd4,cxd4,cxd4,Kb1,Nb6,Rxd4,Nxc4,Rxc4,Be6,Rc7,Bxa2+,Kc2,Rd8,Be4,Kg8,Bxb7,Rad6,Rh2,Rd1,f5,R1d3,g6', 'Bb3+,Kb1,Rd1+,Rc1,Rxc1+,Kxc1,Rd1#', 'https://lichess.org/training/cOTv8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('covQl', 'Rapid', 'highbee', 2025, 'benjol', 2080, 'e4,c5,Nf3,Nc6,Nc3,e5,d3,d6,Be3,Nf6,h3,Be7,Qd2,O-O,Be2,Be6,Ng5,a6,Nxe6,fxe6,g4,b5,g5,Ne8,h4,Nc7,h5,b4,Nd1,d5,g6,d4,gxh7+,Kh8,Bh6,gxh6,Qxh6,Bg5,Qg6,Qf6,f3,Bh4+,Kf1,Ne7,Qg4,Bg5,Nf2,Bh6,Nh3,Kxh7,Qg2,Rg8,Qf2,Raf8,Ng1,Be3,Qe1,Bxg1,Rxg1,Rxg1+,Kxg1,Rg8+,Kf1,Qf4,Qf2,Ne8,a3,b3,cxb3,Nf6,b4,Qd2,bxc5,Nc6,b4,Qb2,Re1,Qxa3,Qh4,Ne8,f4,Qxb4,fxe5,Qxc5,Qf4,Qxe5,Qf7+,Ng7', 'Qg6+,Kh8,Qh6#', 'https://lichess.org/training/covQl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CoVuV', 'Rapid', 'Ksv2012', 1646, 'hukdonfoniks', 1750, 'c4,d6,Nc3,g6,h3,Bg7,d4,Nf6,Bf4,Nbd7,e3,c5,dxc5,Nxc5,Nf3,Bf5,Nd4,Be4,Bg3,Nh5,Bh2,Qa5,a3,Qb6,b4,Ne6,Nxe4,Nxd4,exd4,Bxd4,Ra2,f5,c5,dxc5,bxc5,Qa5+,Ke2,Bxc5,Nxc5,Qxc5,g4', 'Qc4+,Ke1,Qxa2', 'https://lichess.org/training/CoVuV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('COVxv', 'Blitz', 'FM EleKtRoMaGnIt', 2795, 'GM Eyesless18', 2759, 'e4,c6,d4,d5,e5,c5,dxc5,e6,Nf3,Bxc5,a3,a6,Bd3,Ne7,O-O,Ng6,b4,Ba7,Bb2,O-O,c4,dxc4,Bxc4,b5,Bd3,Qc7,Nc3,Bb7,Ne4,Rd8,Nd6,Bd5,Rc1,Qe7,Bxg6,hxg6,Qd2,Nc6,Qf4,Bxf3,Qxf3,Nd4,Qe4,Nf5,Rc6,Rab8,Rd1,Rb6,g4,Rxc6,Qxc6,Bxf2+,Kxf2,Qh4+,Kf1,Ne3+,Ke2,Nxd1,Kxd1,Qxg4+,Kc2,Qf4,Qxa6,Qxh2+,Kb3,g5,Qxb5,g4,Qb7,Rf8,Bd4,g3,a4,g2,Qb6,g1=Q,Bxg1,Qxe5,a5,Qd5+,Ka4,Qd1+,Kb5,Qd3+,Nc4,Rc8,Bc5', 'Qd7+,Ka6,Ra8+', 'https://lichess.org/training/COVxv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cOWvT', 'Rapid', 'grigori-slon', 1782, 'moayed201175', 1787, 'd4,e6,c4,c5,Nc3,cxd4,Qxd4,Nc6,Qd1,Nf6,Bg5,Be7,Nf3,h6,Bh4,g5,Bg3,Qb6,Qc2,a6,e3,Nb4,Qb3,a5,a3', 'Nd3+,Bxd3,Qxb3', 'https://lichess.org/training/cOWvT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CoxOe', 'Rapid', 'ghost_2016', 2043, 'mostafagebril', 2023, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,Re1,c5,c4,dxc4,Bxc4,Bg4,d5,h6,Nc3,Qc7,h3,Bh5,Be3,Nbd7,Be2,a6,a4,Qb6,Qd2,Rfe8,Rad1,Ne4,Nxe4,Rxe4,b3,Rb4,Bxh6,gxh6,g4,Bg6,Bc4,Nf6,g5,Ne4,Qc1,Rxb3,Bxb3,c4,Rxe4,Bxe4,Bxc4,Bxf3,Rd3,Be2,Rb3,Qc5,gxh6,Bh2+,Kxh2', 'Qxf2+,Kh1,Bf3+,Rxf3,Qxf3+', 'https://lichess.org/training/CoxOe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CoXx1', 'Rapid', 'NuwandaLecter', 1699, 'cooldmt147', 1695, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Nc6,h3,e6,Nxc6,bxc6,Bc4,d5,exd5,cxd5,Bb3,Be7,O-O,O-O,Bg5,h6,Bh4,Bd7,Re1,a5,a4,Ne8,Bxe7,Qxe7,Nxd5,Qg5,Nb6,Bc6,f3', 'Qc5+,Kh2,Qxb6', 'https://lichess.org/training/CoXx1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('coYa0', 'Classical', 'Viktor2019', 1803, 'UberDriver', 1908, 'd4,d5,Nf3,c5,c3,cxd4,cxd4,Nc6,Bf4,Nf6,h3,e6,e3,Bd6,Ne5,Qc7,Qa4,Bd7,Nxd7,Nxd7,Bxd6,Qxd6,a3,O-O,Bd3,e5,O-O,exd4,exd4,Nb6,Qd1,Nxd4,Bxh7+,Kxh7,Qxd4,Rac8,Nc3,Rfd8,Rad1,a6,Rfe1,Kg8,Re5,Re8,Rxe8+,Rxe8,Nxd5', 'Nxd5,Qxd5,Re1+,Rxe1,Qxd5', 'https://lichess.org/training/coYa0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CP0Qd', 'Classical', 'baltti', 1768, 'Sluda', 1823, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bd3,O-O,O-O,c6,Qd2,c5,Nf3,Nc6,Nd5,Ne5,Nxe5,Nxd5,exd5,Bxe5,Rab1,f5,Bh6,Rf7,Qg5,Bf6,Qg3,a6,Bf4,Bh4,Qf3,b5,b3,Raa7,Rfe1,Rae7,Qh3,Bf6,Qg3,Qe8,Rxe7,Rxe7,Bxd6,Re1+,Rxe1,Qxe1+,Bf1,c4,Qe3,Qxe3,fxe3,cxb3,axb3,Bb7,c4,bxc4,bxc4,a5,Ba3,Bc3,d6,Bc6,g3,Bb4,Bxb4,axb4,Bd3,b3,c5,b2,Bb1,Kf8,Kf2,Be4,d7', 'Ke7,d8=R,Kxd8', 'https://lichess.org/training/CP0Qd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cp15A', 'Blitz', 'Nasopharynx', 2218, 'Qf6defence', 2227, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,Nge2,Nh5,Ng3,Nxg3,hxg3,Bg7,Bh6,Bxh6,Rxh6,Nd7,Be2,a6,Qa4,Rb8,f4,b5,Qc2,b4,Nd1,Nf6,Ne3,Qe7,Bf3,Bf5,exf5,Qxe3+,Kf1,O-O,Re1,Qd4,fxg6,fxg6,Rxg6+,hxg6,Qxg6+,Kh8,Re7,Rg8', 'Qh6+,Nh7,Qxh7#', 'https://lichess.org/training/cp15A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cP2B8', 'Classical', 'Talab2019', 2046, 'waseemdaher', 2196, 'd4,Nf6,c4,g6,Nc3,Bg7,f3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Bb5+,Bd7,Bxd7+,Qxd7,Ne2,cxd4,cxd4,O-O,O-O,Nc6,Be3,Rfd8,e5,e6,f4,Ne7,Kh1,Rac8,Qb3,Nd5,Bg1,Rc7,Rac1,Rdc8,Rxc7,Rxc7,Ng3,Rc3,Qb2,Qc6,Ne4,Rc2,Qb3,Re2,Qf3,Rxa2,Rb1,b6,h4,Qc2,Rb3,Nxf4,Rc3,Qxg2+,Qxg2,Rxg2,Bh2,Rg4', 'Rc8+,Bf8,Nf6+', 'https://lichess.org/training/cP2B8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cp3WA', 'Rapid', 'nikita00134', 2393, 'TheKingChess23', 2530, 'd4,Nf6,Nf3,d5,c4,dxc4,Nc3,a6,e3,e6,Bxc4,c5,dxc5,Qxd1+,Nxd1,Bxc5,a3,b5,Bd3,Bb7,b4,Bb6,Bb2,Nbd7,Ke2,Ke7,Nc3,Rhd8,Rhd1,Rac8,Rd2,e5,e4,Nf8,Nd5+,Nxd5,exd5,f6,Be4,Rc4', 'd6+,Rxd6,Bxb7', 'https://lichess.org/training/cp3WA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CP3Ww', 'Classical', 'josheeva', 1784, 'Vicknesh26', 1915, 'd4,d5,Nf3,Nf6,Bf4,Bf5,Nbd2,e6,e4,dxe4,Bb5+,c6,Bc4,exf3,Nxf3,Nbd7,Bg5,c5,Bb5,a6,Bxd7+,Qxd7,Ne5,Qxd4,Bxf6,Qxd1+,Rxd1,gxf6,Nd7,Bg7,O-O,c4,Nc5,Rc8,Nxb7,Rc7,Nd6+,Kf8,Nxf5,exf5,Rd8+,Ke7,Rd4,Rd8', 'Re1+,Kf8,Rxd8#', 'https://lichess.org/training/CP3Ww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cP47g', 'Classical', 'dracula64', 1848, 'Juan_Allende', 1965, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Be3,Bg7,Nc3,Nc6,Bc4,Nf6,f3,Qb6,Nf5,Qxb2,Nxg7+,Kf8,Nd5,Kxg7,Nxf6,Qxf6,O-O,Rd8,f4,Qh4,g3,Qg4,Be2,Qh3,f5,h5,Rf4,g5,Bf1,gxf4,Bxh3,fxe3,Qxh5,Rh8,Qg5+,Kf8,Bf1,Ne5,Qxe3,Ng4,Qd4,Rxh2,Bg2,Rh6,Bf3,Ne5,Kg2', 'Rh2+,Kf1,Nxf3', 'https://lichess.org/training/cP47g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cp6Dj', 'Classical', 'atopchyi', 1628, 'RetroKaizen', 1686, 'e4,c5,Bc4,d6,Nf3,Nf6,Ng5,e6,d3,g6,Qf3,Bg7,Nc3,Nc6,O-O,Ne5,Qg3,Nxc4,dxc4,O-O,Rd1,Qe7,Qh4,Nh5,e5,dxe5,Qe4,Nf6,Qe3,e4,Ngxe4,Nxe4,Qxe4,Bd7,Qxb7,Rfb8,Qa6,Rb6,Qa3,Bc6,Be3,Bf8,Rd2,Rab8,Rad1,Rxb2,Qa6,Qb7,Qxb7,R8xb7,Rd8,Kg7,Rc8,Rxc2,Rxc6,Rxc3,Bxc5,Rxc4', 'Bxf8+,Kxf8,Rxc4', 'https://lichess.org/training/Cp6Dj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cp7Io', 'Blitz', 'Oliver_f', 1546, 'AhmedShee', 1547, 'e4,e6,Nf3,Nf6,d3,d5,Be2,Nbd7,e5,Ng4,d4,c5,h3,Nh6,Bxh6,gxh6,O-O,cxd4,Qxd4,Bg7,Bb5,O-O,Re1,a6,Bxd7,Bxd7,Nc3,b5,b4,Rc8,a3,a5,bxa5,Qxa5,Re3,h5,Rc1,Bh6,Qb4,Qxb4,axb4,Bxe3,Re1,Rxc3,fxe3,Rxc2,Nd4,Rb2,Rc1,Rxb4,Kf2,Kh8,Kf3,Rg8,g3,Rc4,Ra1,b4,Ra7,b3,Rxd7,b2,Rb7,Rc3,Rxb2,Kg7,Rb7,Kg6,h4,h6,Ne2,Rc4,Nf4+,Kh7,Nxh5,Rf8,Nf6+,Kg6,h5+,Kf5', 'g4+,Kxe5,Nd7+,Kd6,Nxf8', 'https://lichess.org/training/Cp7Io');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cpa5W', 'Classical', 'aaj05', 1803, 'Jann47', 1766, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Nd5,cxd4,Be7,Nc3,Nxc3,bxc3,O-O,Be2,d6,Bf4,dxe5,Nxe5,Nxe5,Bxe5,Bf6,f4,Re8,O-O,Bf5,Qb3,b6,Bf3,Rb8,Qc4,Bxe5,fxe5,Be6,Qa6,Bd5,Qxa7', 'Ra8,Bxd5,Rxa7,Bxf7+,Kh8,Bxe8,Qxe8', 'https://lichess.org/training/Cpa5W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CpB7V', 'Rapid', 'ZZaaRRaaKK', 1908, 'Will111311', 1832, 'e4,d6,d4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Nbd7,g4,h5,gxh5,Nxh5,O-O-O,a6,Nge2,b5,Ng3,Ndf6,Be2,b4,Nxh5,bxc3,Nxf6+,Bxf6,Qxc3,c5,h4,cxd4,Bxd4,e5,Be3,Bxh4,Qd2,Be6,Qxd6,Qxd6,Rxd6,Be7,Rxa6,Rab8,b3,Ra8,Rxa8,Rxa8,a4,Rc8,Kb2,Bb4,Bg5,Bc3+,Ka2,Bd4,Bd3,Ra8,Bf6', 'Rxa4+,Kb1,Ra1#', 'https://lichess.org/training/CpB7V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CpCEj', 'Rapid', 'nikolitza', 1636, 'agarkovden', 1646, 'e4,e5,Nf3,Bc5,d3,h6,Nxe5,Qf6,Ng4,Qe7,d4,Bb6,Be2,Qxe4,Nc3,Qxg2,Rf1,d6,Ne3,Qxh2,Qd3,Bh3,Qe4+,Ne7,Rh1,Bg2,Qxe7+,Kxe7,Rxh2,Bc6,d5,Bxe3,Bxe3,Bd7,O-O-O,Na6,Bxa6,bxa6,Bd4,f6,Re1+,Kf7,f4,c6,Rhe2,Rhe8,Rxe8,Rxe8,Rxe8,Kxe8,Bxa7,cxd5,Nxd5,Be6,Nc7+,Kd7,Nxe6,Kxe6,Kd2,Kf5,Ke3,Kg4,Bd4,h5,Kf2,h4,c4,h3,Kg1,Kxf4,b4,g5,c5,dxc5,bxc5,g4,c6,Kf3,c7,g3,c8=Q,h2+,Kf1,g2+,Ke1,h1=Q+,Kd2,g1=Q,Bxg1,Qxg1,Qf5+,Kg2,Qxf6,Qf2+,Qxf2+,Kxf2,Kc3,Ke3,Kb4,Kd2,a4,Kd3,Ka5,Kc3', 'Kxa6,Kb4,a5,Kc5,Kb7', 'https://lichess.org/training/CpCEj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CPd63', 'Classical', 'Bhrao', 1646, 'slimgoodie', 1686, 'e4,e6,Nf3,d5,exd5,Qxd5,Nc3,Qd8,d4,Bb4,Bc4,Bxc3+,bxc3,Ne7,O-O,O-O,Qd3,h6,Ba3,Re8,Ne5,Nd7,Nf3,a6,Rfe1,b5,Bb3,Nf5,Bc1,c5,c4,Nxd4,Nxd4,cxd4,Qxd4,Nf6,Qe3,bxc4,Bxc4,Bb7,Qg3,Kh8,Rb1,Rb8,Bxh6,gxh6,h3,Ne4,Qe5+,Qf6', 'Rxe4,Qxe5,Rxe5', 'https://lichess.org/training/CPd63');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CpE3D', 'Classical', 'ujemvi', 1874, 'VooV', 1865, 'c4,c5,g3,d5,cxd5,Qxd5,Nf3,g6,Nc3,Qc6,Bg2,Bg7,O-O,Nf6,Re1,O-O,d4,Be6,Ng5,Nd5,Nxe6,fxe6,Qb3,c4,Qc2,Nd7,e4,Nb4,Qd2,Nd3,Re2,Bxd4,Qg5,Bxf2+,Rxf2,Nxf2,Be3,Nd3,Bh3,e5,Nd5,Nf6', 'Nxe7+,Kh8,Nxc6', 'https://lichess.org/training/CpE3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CPEEL', 'Blitz', 'DaArtfulDodger', 1670, 'Super1980', 1704, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Be2,Nc6,Qd2,e5,Nb3,b5,Nd5,Nxd5,Qxd5,Bb7,h4,Rb8,Qd2,Be7,h5,h6,O-O-O,O-O,f3,Ba8,g4,a5,Kb1,a4,Nc1,Na5,Rdg1,Nc4,Bxc4,bxc4,g5,hxg5,Bxg5,Bxg5,Rxg5,c3,Qe3,Rxb2+,Ka1,Rxc2,h6,g6,f4,Qb8,Nd3,Rb2,f5,a3,fxg6,f6,h7+,Kg7,Rf5,c2', 'Qh6+,Kh8,g7#', 'https://lichess.org/training/CPEEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cPEqF', 'Classical', 'taha_94', 1896, 'serdar_erdoan', 1903, 'e4,e5,f4,d5,exd5,e4,d3,Nf6,Nc3,Bb4,dxe4,Nxe4,Bd2,Bxc3,Bxc3,O-O,Nf3,Nxc3,bxc3,Re8+,Be2,Qe7,Kf2,Bg4,Re1,Nd7,Bb5', 'Qc5+,Qd4,Qxb5', 'https://lichess.org/training/cPEqF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CpeUD', 'Rapid', 'Neongelb3000', 1749, 'major60000', 1712, 'd4,e6,c4,g6,Nf3,Bg7,Bg5,Ne7,Nc3,O-O,e3,h5,Be2,f6,Bh4,g5,Nxg5,fxg5,Bxg5,Rf5,f4,Bf6,e4,Rxg5,fxg5,Bxg5,Bxh5,Nec6,Qg4,Kh8,Rf1,Qg8,Bf7', 'Bd2+,Kxd2,Qxg4', 'https://lichess.org/training/CpeUD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CpFDr', 'Rapid', 'VCC86', 1658, 'prito', 1756, 'e4,e6,d4,d5,Nc3,a6,Be2,h6,e5,c5,f4,cxd4,Qxd4,Nc6,Qf2,Nge7,Nf3,Nf5,g4,Nfe7,Be3,Nb4,O-O-O,Nbc6,Bb6,Qd7,h4,Ng6,Nd4,Nxd4,Qxd4,Ne7,g5,Nc6,Qf2,Be7,gxh6,Rxh6,Rdg1,g6,h5,d4,Ne4,Qd5,Ng5,Bxg5,fxg5,Rh7,Rf1,Nxe5,hxg6,Rxh1,gxf7+,Kf8,g6,Rxf1+,Qxf1,Nxg6,Qf6,Qf5,Bc5+,Qxc5,Qxg6,Qf5', 'Qg8+,Ke7,Qe8+,Kd6,f8=Q+,Qxf8,Qxf8+', 'https://lichess.org/training/CpFDr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CPGHP', 'Rapid', 'Fuad_Mammadov', 1827, 'SJOSHI769', 1950, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Be7,d3,d6,O-O,Bg4,h3,Bh5,Be3,O-O,Qd2,Bxf3,gxf3,Qd7,Kh2,a6,Rg1,Kh8,Rg2,b5,Bb3,g6,Rag1,Nd4,Bxd4,exd4,Ne2,c5,Nf4,a5,a3,a4,Ba2,Ne8,Qe1,Bf6,Nd5,Bg7,Nb6,Be5+,Rg3,Bxg3+,Rxg3,Qb7,Nxa8,Qxa8,Bd5,Qd8,c3,Nf6,Ba2,Nh5,Rg4,Qe7,cxd4,cxd4,Qb4,Qe5+,Kg2,Nf4+,Kf1,Nxd3,Qd2,Nc5,Qh6,Qg7,Qd2,d3,h4,h5,Rg2,Re8,Qf4,Nb3,Bxb3,axb3,Qxd6,Qxb2,Rg5,Re6', 'Qf8+,Kh7,Qxf7+,Qg7,Qxe6', 'https://lichess.org/training/CPGHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cPgoE', 'Classical', 'Czeslaw62', 1910, 'Hosseinamator', 1789, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Nc6,a3,a5,e3,Be7,cxd5,exd5,Bb5,Bd7,Qb3,Na7,Bxd7+,Qxd7,Qxb7,O-O,Qb3,c6,Ne5,Qc7,Qc2,c5,Na4,Rac8,Nf3,cxd4,Qxc7,Rxc7,Nxd4,Rfc8,O-O,h6,Bd2,Rc4,Nb6,Ne4,Nxc4,dxc4,Bxa5,Bf6,f3,Nc5,Bc3,Nb3,Rad1,Re8,Nxb3,Bxc3,bxc3,cxb3,Rb1,Rb8,a4,Nc6,Rb2,Na5,Rfb1,Kf8,Rxb3,Rxb3,Rxb3,Nxb3,c4,Ke7,Kf2,Kd6,e4,Kc5,Ke3,Kxc4,Kf4,Nc5,a5,Ne6+,Ke5,Kb5,f4,Kxa5,f5,Nf8,Kd6,Nh7,h4,Nf6', 'e5,Ng4,e6,fxe6,fxe6,Kb4,e7', 'https://lichess.org/training/cPgoE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cphe6', 'Rapid', 'sandeeprhgwhwrh', 2034, 'ethangoh', 2121, 'e4,e5,Bc4,Nc6,Nc3,Bc5,a3,d6,Nge2,Nf6,d3,Ne7,Be3,Bb6,Bg5,Ng6,Nd5,c6,Nxf6+,gxf6,Be3,d5,exd5,cxd5,Bxb6,axb6,Bb3,Be6,Ng3,Qd7,Qe2,b5,O-O,Nf4,Qd2,h5,Rad1,Rg8,Ne2,Nxg2,Kh1,Nh4,Rg1,Rxg1+,Rxg1,Nf3', 'Rg8+,Ke7,Qb4+', 'https://lichess.org/training/cphe6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cpHJB', 'Rapid', 'alex_z', 1808, 'capitan-meliodas', 1804, 'd4,d5,Bf4,Nf6,e3,e6,h3,Bd6,Be5,Bxe5,dxe5,Nfd7,Nf3,c5,Bb5,O-O,Bxd7,Bxd7,c3,Bb5,Qb3,Ba6,Qc2,Nc6,a3,Qc7,b4,cxb4,axb4,Bc4,Nbd2,Nxe5,Nxe5,Qxe5,Nxc4,dxc4,O-O,Rfd8,Ra5,Qd6,Rc5,Qd3,Qb2,b6,Rb5,Qd7,Rh5,Qd2,Qa3,Rd3,Rc1,a5,Rb5,Rd6,bxa5,bxa5,Rxa5', 'Rxa5,Qxa5,Qxc1+', 'https://lichess.org/training/cpHJB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cpi70', 'Rapid', 'akpinarme', 2122, 'Mihawk22', 2013, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Nf6,Nc3,Nxd5,Bc4,Nxc3,bxc3,e6,Nf3,Be7,O-O,Nc6,d4,Qc7,Re1,Na5,Bb5+,Bd7,Qa4,Bxb5,Qxb5+,Nc6,d5,exd5,Rxe7+,Qxe7,Bg5,f6', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/Cpi70');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cpie7', 'Rapid', 'iAmTwoMetersHigh', 1919, 'Currychicken', 1878, 'd4,Nf6,Bf4,d6,Nf3,g6,e3,Bg7,Nbd2,O-O,h3,Nbd7,Be2,c5,c3,a6,O-O,b5,Qc2,Bb7,a4,Qb6,axb5,axb5,Qd3,c4,Qc2,Nh5,Bh2,f5,Ng5,Bd5,Bxh5,gxh5,Rfb1,h6,Ngf3,Nf6,Qd1,Kh7,Nh4,e6,b3,Qd8,bxc4,bxc4,Rxa8,Bxa8,Nxc4,d5,Ne5,Ne4,Rc1,Qxh4,Qe1,f4,Nf3,Qf6,Bxf4,Ng5,Ne5,Qf5,Ra1,Bxe5,Bxe5,Bc6,Ra6,Bb5,Ra5,Bd3,Qd2,Be4,Qa2,Nxh3+,gxh3,Qxh3,Ra7+,Kg6,Rg7+,Kf5,Qa7', 'Qh1#', 'https://lichess.org/training/cpie7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CPiwU', 'Rapid', 'khali_1350_IR', 1838, 'RBKmat', 1905, 'e4,e6,Nc3,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,d4,Bb4,Ne5,Bxc3,bxc3,Nxe5,dxe5,Ne4,Qd4,Qb6,Qxb6,axb6,Be3,b5,Bd4,Rc8,a4,Nxc3,Bxc3,Rxc3,axb5,O-O,Rfc1,Rfc8,Ra2,R8c5,b6,h6,h3,Rb5,Ra8+,Kh7,Rf8,Kg6,h4,Rxb6,h5+,Kxh5,Rxf7,Kg6,Re7,Rb2,Rxe6+,Kf7,Rd6,Rbxc2,Rxc2,Rxc2,Rxd5,Rc7,Rd6,Ke8,f4,Rd7,Rb6,Kd8,Rg6,Kc7,e6,Re7,f5,b5,Rg3,Kb6,Rd3,b4,Rd7', 'Rxd7,exd7,Kc7', 'https://lichess.org/training/CPiwU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CPOsV', 'Rapid', 'DonFri', 1994, 'Grzybiarz85', 1896, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bc4,Bxe4,O-O,Bxc3,bxc3,Bb7,Ba3,Nc6,Re1,Qf6,Rb1,O-O-O,Qd3,d5,Ba6,h6,Bxb7+,Kxb7,Bc5,Na5,a4,Nc4,Nd2,Qf5,Nxc4,dxc4,Qxc4,Qxc2,a5,Nf6,axb6,axb6,Qb5,Nd5,c4,Nc3,Qb4,Nxb1,Rxb1,Rb8,Bxb6,Kc8,c5,cxb6,cxb6,Kb7', 'Qe7+,Kc8,b7+,Rxb7,Qxb7+', 'https://lichess.org/training/CPOsV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CPq33', 'Classical', 'troi-p', 1965, 'MKREKHA', 1997, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ne5,Qe7,d4,d6,Nxg4,Qxe4+,Qe2,Qe7,Qxe7+,Bxe7,Be2,h5,Nf2,Nc6,c3,Be6,Bxf4,Nf6,Na3,Rg8,Bg5,O-O-O,O-O,Ne8,Bxe7,Nxe7,Bxh5,Nf6,Bf3,Rh8,g3,Rdg8,Kh2,Nf5,Rg1,Nxh4,gxh4', 'Rxh4+,Nh3,Rxh3#', 'https://lichess.org/training/CPq33');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cPQ5q', 'Blitz', 'MVillelaUCH', 1991, 'GrosBisous', 2055, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,a3,Bxc3+,Qxc3,Ne4,Qc2,d5,e3,Nd7,Nf3,Ndf6,Bd3,b6,cxd5,exd5,O-O,Bb7,b4,Qd6,Bb2,Rac8,Ne5,c5,bxc5,bxc5,dxc5,Rxc5,Qe2,Nc3,Bxc3,Rxc3,Nf3,Rxa3,h3,Ne4,Nd4,a6,Bxe4,dxe4,Nf5,Qb4,Rac1,Qa5,Qb2,Qxf5,Qxa3,Qg6,Rc7,Bc8,Kh2,Bf5,Ra1,Qb6,Qc5,Qb2,Rxa6,Qxf2,Qa3,Bxh3', 'Qxf8+,Kxf8,Ra8+,Bc8,Raxc8#', 'https://lichess.org/training/cPQ5q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cpqaB', 'Rapid', 'alex2111', 1802, 'moimoibubu', 1946, 'd4,d5,Nf3,e6,c4,c6,Bf4,Bd6,Bxd6,Qxd6,c5,Qe7,e3,Nh6,h3,O-O,Bd3,b5,a3,a5,Nbd2,Nd7,O-O,e5,e4,dxe4,Bxe4,Bb7,Re1,f5,Bc2,e4,Nh2,Qf6,Ndf1,Rad8,Qd2,a4,Qc3,Rfe8,Rad1,Nf8,b3,axb3,Bxb3+,Kh8,Qb4,Nf7,a4,Ba6,axb5,Bxb5,d5,Bxf1,Nxf1,cxd5,Rxd5,Rb8,Qa4,Qc3,Rb1,f4,Qc4', 'Qxc4,Bxc4,Rxb1', 'https://lichess.org/training/cpqaB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CpQbn', 'Blitz', 'mmaverick', 1855, 'changeofwind', 1874, 'e4,c5,Nf3,d6,Bc4,e6,O-O,Nf6,d3,a6,a4,Nc6,Bd2,Be7,Re1,O-O,Nc3,Qc7,Bf4,e5,Bd2,Nd4,Nxd4,cxd4,Ne2,h6,Ng3,Be6,Bxe6,fxe6,f4,Rac8,Rc1,d5,f5,exf5,Nxf5,Bc5,exd5,Nxd5,Qg4,Ne3,Bxe3,dxe3,b4,Bxb4,Nxh6+,Kh7,Qxb4,Kxh6,Rxe3,Rf4,Qb3,Qc5,Qe6+,g6,Qh3+,Kg7,Re1,Qxc2,Rxe5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/CpQbn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cPR1k', 'Rapid', 'avicennafff', 1732, 'BouttaGoMeeHAM', 1617, 'd4,d5,e3,Bf5,f4,e6,Nd2,Nf6,c3,Ne4,Nxe4,Bxe4,Bd3', 'Bxg2,Nf3,Bxh1', 'https://lichess.org/training/cPR1k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cprB4', 'Blitz', 'Papst-Benedikt', 1934, 'Hiku', 1937, 'd4,d5,Nf3,Nc6,Bf4,Bf5,e3,Nf6,h3,a6,a4,e6,Bd3,Ne4,Nbd2,Bb4,c3,Bd6,Ne5,Nxe5,dxe5,Bc5,Bxe4,dxe4,O-O,O-O,Nb3,Bb6,a5,Ba7,Qe2,Qe7,Nd4,Bxd4,exd4,c6,g4,Bg6,Qe3,h6,Bg3,f5,exf6,Qxf6,f3,exf3,Be5,Qf7,Rf2,h5,g5,Qf5,Kh2,Rad8,Raf1,Rd5,Rxf3,Qc2+,R3f2,Rxf2+,Rxf2,Qd1,Bg3,Rf5', 'Qxe6+,Kh7,Rxf5,Qc2+,Rf2', 'https://lichess.org/training/cprB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cps41', 'Blitz', 'Albertoxadrez', 1938, 'MarunichSergey', 1908, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,d6,O-O,O-O,c4,Nbd7,Nc3,c5,e4,cxd4,Nxd4,a6,Be3,Ne5,b3,Nfg4,Qd2,Nxe3,Qxe3,Qb6,Rfd1,Nc6,Nce2,Bg4,f3,Bd7,Rd2,Nxd4,Nxd4,Qc5,Rad1,b5,cxb5,axb5,Rc2', 'Bxd4,Qxd4,Qxc2', 'https://lichess.org/training/Cps41');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cpSgy', 'Rapid', 'lilgarymc', 1686, 'NIoannidis', 1716, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Qe2,O-O,h3,d5,exd5,e4,Ng5,Nd4,Qd1,h6,c3,Nf5,d4,exd3,Nxf7,Rxf7,Qxd3,Qd6,b4,Bb6,Na3,a6,Nc2,Bd7,Ne3,Nxe3,Bxe3,Bxe3,fxe3,Re8,Rae1,Rfe7,Rf3,c6,Qg6,Kh8,e4,Nxe4,Qxd6,Nxd6,Rf8+,Rxf8,Rxe7,Rf7', 'Rxf7,Nxf7,dxc6,Bxc6,Bxf7', 'https://lichess.org/training/cpSgy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cpsOg', 'Classical', 'casoba', 1687, 'penterakt', 1675, 'Nf3,e5,d3,Nc6,e4,Bc5,Nc3,a6,g3,Nf6,Bg2,d6,Bg5,Be6,a3,O-O,O-O,h6,Bd2,Qe7,Na4,Ba7,b3,Bg4,Qe1,Nd7,Nc3,Nb6,Be3,f5,Bxb6,cxb6,Nd5,Qd7,Nh4,b5,h3,Bh5,Nxf5,Rxf5,exf5,Qxf5,g4,Bxg4,hxg4,Qxg4,Qe4,Qg5,Ne3,Rf8,c3,Kh8,d4,exd4,cxd4,Nxd4,Ra2', 'Nf3+,Qxf3,Rxf3', 'https://lichess.org/training/cpsOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cpt4C', 'Rapid', 'ReyLunatico-Ip', 1804, 'lucasMaciel74', 1783, 'e4,c5,Bb5,a6,Bc4,b5,Bd5,Nc6,e5,e6,Be4,Bb7,Nf3,Qc7,O-O,Nxe5', 'Bxb7,Qxb7,Nxe5', 'https://lichess.org/training/cpt4C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cPTCG', 'Rapid', 'gambit672', 1972, 'BenLZ', 2177, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,O-O,d6,Bxc6+,bxc6,c3,h6,Nbd2,Be6,h3,O-O,Re1,Bb6,Nf1,Qd7,Kh2,Ne8,Be3,f5,exf5,Bxf5,Ng3,Be6,d4,exd4,Bxd4,Nf6,Bxb6,cxb6,Nd4,Bd5,b3,Rae8,Qd3,Nh7,c4,Bf7,Ndf5,Be6,Qxd6', 'Bxf5,Qxd7,Bxd7', 'https://lichess.org/training/cPTCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cpUlx', 'Blitz', 'vousmevoyez', 1916, 'Lord_Sauron', 1847, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bb4,Bxc6,dxc6,d3,Bd6,Bg5,h6,Bh4,g5,Bg3,Nd7,d4,f6,d5,Nf8,Qd3,Ng6,dxc6,bxc6,O-O,Be6,Rad1,Qe7,Nd2,Nf4,Bxf4,gxf4,g3,fxg3,fxg3,h5,Qf3,Bg4,Qxf6,Qxf6,Rxf6,Bxd1,Nxd1,Ke7,Rf5,Raf8,Ne3,Bc5', 'Rxe5+,Kd6,Nc4+,Kd7,Rxc5', 'https://lichess.org/training/cpUlx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cpwE9', 'Rapid', 'wowker', 1898, 'Petromichalich', 1925, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nc6,Nxc3,Nf6,Nf3,d6,O-O,Be7,Ng5,O-O,Qb3,Ne5,Nd5,Nxc4,Nxe7+,Qxe7,Qxc4,Be6,Nxe6,fxe6,Bg5,Rac8,Qb3,b6,Rac1,h6,Bh4,Kh8,Rfe1,e5,f3,g5,Bf2,Nh5,Rc2,c5,Qd5,Nf4,Qc4,Qf6,Rec1,Rc7,Qa6,Rcf7,a3,Nxg2,Kxg2,Qxf3+,Kg1,Qxe4,Bg3,Qe3+,Kh1,Rf1+', 'Rxf1,Rxf1+,Qxf1', 'https://lichess.org/training/cpwE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CPxFV', 'Classical', 'yttt63', 1671, 'nikitavelikieluki', 1675, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,d3,Na5,Bxf7+,Kxf7,Nxe5+,Ke8,Bg5,d6,Bxf6,Qxf6,Qh5+,Kf8,Nd5,Qxe5,Qf3+,Kg8,c3,c6,d4,Bxd4,cxd4,Qe6', 'Nc7,Qc4,Nxa8', 'https://lichess.org/training/CPxFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CPxTD', 'Classical', 'fakenidarsh', 1727, 'dee9blue', 1826, 'e4,Nc6,Nc3,e5,Nf3,Bc5,Bc4,Nh6,d3,Qf6,Nd5,Qd6,Ng5,Ne7,Qf3,O-O,Qg3,Nxd5,Bxd5,Kh8,b3,Qf6,Bb2,d6,O-O-O,Ng4,Rd2,a6,Nf3,c6,Bc4,b5,d4,Bb4,dxe5,Bxd2+,Kxd2,dxe5,Bxf7,Qd6+,Kc1,Rxf7,Nxe5,Nxe5,Bxe5,Qg6,Rd1,Qxg3', 'Rd8+,Rf8,Rxf8#', 'https://lichess.org/training/CPxTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CPxyK', 'Blitz', 'Ross_Lam', 2254, 'IM mm200578', 2424, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Be7,Nc3,Ne4,Qc2,f5,O-O,O-O,Bd2,Na6,Rfd1,Qe8,Be1,Qh5,d5,Nac5,b4,Nxc3,Bxc3,Ne4,Be1,Rae8,Ne5,Rd8,Rac1,Bd6,Nf3,exd5,cxd5,Ng5,Nxg5,Qxg5,Bc3,Rde8,Qd3,f4,a3,fxg3,hxg3,Re7,Bf3,Ref7,Kg2,Ba8,Rh1,h6,Rh5,Qe7,Qg6,Rf6,Bxf6,Rxf6,Qe4,Qf7,Rch1,Bf8,Qd3,g6,R5h4,Rxf3,Qxf3,Bxd5,e4,Qxf3+,Kxf3,Be6,Rc1,c5,bxc5,bxc5,e5,Bd5+,Ke3,Be7,Ra4,c4,Rxa7', 'Bc5+,Ke2,Bxa7', 'https://lichess.org/training/CPxyK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cpyio', 'Rapid', 'HelderJacinto', 1977, 'Kraparov75', 1953, 'e4,c6,d4,d5,e5,Bf5,g4,Bd7,Bd3,e6,h4,c5,c3,Nc6,Ne2,Qc7,f4,O-O-O,Be3,c4,Bc2,Kb8,Nd2,Ka8,b3,cxb3,axb3,f6,b4,h6,Nb3,Be7,b5,Nb8,Bd3,f5,Nc5,b6,Na6,Nxa6,Rxa6,fxg4,c4,dxc4,Be4+,Kb8,Qa4,Bc8,d5,exd5', 'Bxb6,Qxb6,Rxb6+', 'https://lichess.org/training/cpyio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CPz8l', 'Rapid', 'Humberto-1958', 2099, 'chrismac1', 2092, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d3,Qe7,Be2,Nc6,Nf3,O-O-O,a3,Bf5,O-O,Qd6,Qa4,h5,Nc3,a6,b4,Kb8,b5,axb5,Nxb5,Qe6,Be3,Ng4,Ba7+,Kc8,h3,Qxe2,Nfd4,Nxd4,Nxd4,Qxd3,hxg4,hxg4,Nxf5,Qxf5,Be3,Qh5,Qa8+,Kd7,Rfd1+,Bd6,Qxb7', 'Qh1#', 'https://lichess.org/training/CPz8l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CPZVo', 'Classical', 'rangyNlanky', 1927, 'zauberwaldkacken', 1821, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,Ngf3,c4,c3,Nf6,b3,Be6,bxc4,dxc4,Qa4+,Nc6,Bxc4,Qd6,Ne5,Rc8,Ba3', 'Qxa3,Qxa3,Bxa3', 'https://lichess.org/training/CPZVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cpZx1', 'Blitz', 'Bugalu', 1600, 'a76', 1609, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Nf3,Nc6,Bg5,Bf5,a3,e6,e3,h6,Bxf6,gxf6,h3,Rg8,Qb3,Qc7,Nh4,Bh7,Bb5,a6,Bxc6+,bxc6,Rc1,Bd3,Na4,Bc4,Qc2,Rb8,Nc5,Bxc5,dxc5,Qa5+,Qc3,Qxc3+,bxc3,Rb3,Kd2,Rxa3,Rb1,Rb3', 'Rxb3,Bxb3,Rb1,Kd7,Rxb3', 'https://lichess.org/training/cpZx1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cq05B', 'Blitz', 'nonso06', 1663, 'jacobelm', 1659, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,c5,e3,Be7,Nf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,cxd5,cxd5,Bxf6,Bxf6,Bb5+,Bd7,Qa4,Bxb5,Qxb5+,Qd7,Qxd7+,Kxd7,O-O,Rhc8,Rac1,a6,Rc2,Rab8,Rfc1,d4,exd4,Bxd4,Rd2,Rc4,Rdc2,Rbc8,Kf1,Kd6,Ke2,f5,f3,Bf6,Kd3,e5,b3,R4c6,Na4', 'e4+,fxe4,fxe4+,Kxe4,Rxc2', 'https://lichess.org/training/Cq05B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cq1iZ', 'Rapid', 'Balistico', 1632, 'imakethenews', 1613, 'e4,e5,d4,exd4,Qxd4,d6,e5,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,f6,e6,Ne7,Qd1,g5,O-O,Nf5,Nd4,Nxd4', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/Cq1iZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cq2fs', 'Blitz', 'Serkai', 2103, 'Slonnik', 2195, 'd4,e6,e4,d5,exd5,exd5,f4,Nf6,Nf3,Be7,Bd3,O-O,O-O,c5,Nbd2,c4,Be2,Bf5,c3,Re8,Nh4,Be4,Nxe4,Nxe4,Nf3,Nc6,Ne5,f6,Nf3,Bd6,Nd2,Qc7,Nxe4,Rxe4,Bf3,f5,Bxe4,dxe4,Be3,Ne7,Qe2,Nd5,Bd2,Rf8,b3,b5,Rab1,Bxf4,bxc4,bxc4,Bxf4,Nxf4,Qb2,Nd5,Qa3,f4,Rb5,Ne3,Rfb1,f3,gxf3,Qf4,R5b2,exf3,Rf2,Qg4+,Kh1,Qg2+,Rxg2', 'fxg2+,Kg1,Rf1+,Rxf1,gxf1=Q#', 'https://lichess.org/training/cq2fs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cq6C7', 'Rapid', 'ol99', 1821, 'furious_dragon', 1879, 'e4,c5,Nf3,g6,Nc3,Bg7,Be2,Nc6,O-O,d6,Nd5,Nf6,d3,e6,Nxf6+,Qxf6,c3,h6,Be3,O-O,Qc2,b6,Rad1,Ba6,h4,d5,exd5,exd5,a3,d4,Bd2,Rac8,c4,Bb7,Qc1,Kh7,Bf4,Rce8,Rfe1,Qf5,Bg3,Ne5,Nxe5,Bxe5,f4,Bc7,Bf3,Bxf3,gxf3,Qh3,Kf2,Re6,Re4,Rfe8,Rde1,Qf5,Qd2,Rf8,Rxe6,fxe6,Re4,g5,hxg5,hxg5,Qe2,gxf4,Bh2,Qh5,Bg1,Qh4+,Kf1,Rg8,Rxe6', 'Qh3+,Ke1,Rxg1+', 'https://lichess.org/training/Cq6C7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cQ6EN', 'Rapid', 'cor732', 1822, 'coastalmango', 1793, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,O-O,a3,e6,O-O-O,d5,exd5,Nxd5,Nxd5,Qxd5,Bh6,Rd8,Bxg7,Kxg7,c3,Nxd4,c4,Qxc4+', 'Bxc4,Nb3+,Bxb3', 'https://lichess.org/training/cQ6EN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cq6GZ', 'Rapid', 'MasterStudent', 1835, 'lampogianno', 1973, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,O-O,Be3,Bg4,Rc1,c5,d5,Qa5,Qc2,Bxf3,gxf3,Nd7,Be2,Rfc8,O-O,c4,f4,b5,Rfd1,Qc7,e5,Nc5,d6,exd6,Rxd6,Rd8,Rcd1,Nb7,Rxd8+,Rxd8,Bxa7,Ra8,Bd4,Ra3,Rb1,Qc6,Bf1,Bh6,Bg2,Qd7,Qe4,Nd8,Rb2,Ne6,Bh3,Qe7,Be3,Rxc3,Rxb5,Qa3,Rb8+,Kg7,f5,Bxe3', 'f6+,Kh6,Qh4#', 'https://lichess.org/training/cq6GZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cq8Q0', 'Rapid', 'esboy', 1649, 'GentilGoret', 1684, 'e4,c5,Nc3,Nc6,a3,d6,h3,Nf6,Nf3,g6,Bc4,Bg7,d3,a6,Be3,b5,Ba2,O-O,Nd5,Bb7,Nxf6+,Bxf6,c3,Rb8,Bh6,Re8,Qd2,a5,Qf4,e5,Qe3,b4,axb4,axb4,Bd5,Ra8,O-O,Qb6,Bxc6,Bxc6,cxb4,Qxb4,Qd2,Rxa1,Rxa1,Rb8,Rb1,Qa4,Nh2,Bb5,Ng4,Bd8,Bg5,Ba5,Qe3,Qc2,Rc1,Qxd3,Nf6+,Kh8,Qxd3,Bxd3,Ra1,Bd8,Ra3,Bc4,Rf3,Bxf6,Rxf6,Rxb2,Rxd6,Rb5', 'Bf6+,Kg8,Rd8#', 'https://lichess.org/training/cq8Q0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cq9OF', 'Rapid', 'Hagabdelhalim', 1766, 'lambda133', 1743, 'e4,c5,Bc4,Nc6,a3,Nf6,Nc3,e6,f3,d5,Ba2,Be7,Nge2,O-O,O-O,a6,d3,Nd4,Nxd4,cxd4,Ne2,Qb6,e5,Nd7,f4,f5,Bb3,Nc5,Ba2,Bd7,Bb3,Rac8,Ba2,Ba4,b3,Bd7,Bb2,Nxd3,Qxd3', 'Bb5,Bxd4,Bxd3,Bxb6,Bxe2', 'https://lichess.org/training/cq9OF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CQAfM', 'Rapid', 'EgyFischer_zk', 2008, 'Thegabo731CR', 2367, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bd3,Nc6,Nxc6,dxc6,O-O,Bd6,f4,e5,f5,Bc5+,Kh1,b5,Qf3,O-O,Qg3,Qd6,Bh6', 'Nh5,Qh4,Qxh6', 'https://lichess.org/training/CQAfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CqArn', 'Rapid', 'michaels9876', 1824, 'Davit9008', 1865, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,Re1,Be7,h3,O-O,c3,a6,Ba4,b5,Bc2,Bb7,d4,exd4,cxd4,Nb4,Nbd2,Nxc2,Qxc2,Re8,Nf1,Bxe4,Rxe4,Nxe4,Qxe4,c5,Qg4,Bf6,dxc5,dxc5,Bg5,Qd6,Bxf6,Qxf6,Ne3,Qxb2,Rd1,c4,Nd4,Rxe3,fxe3,c3,Nf5', 'c2,Nh6+,Kf8', 'https://lichess.org/training/CqArn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cQaUs', 'Blitz', 'paxa4erepaxa', 1854, 'OmShri2212', 1965, 'e4,c5,b3,e6,Bb2,d5,Bb5+,Bd7,Bxd7+,Nxd7,exd5,exd5,d4,Ngf6,Nf3,Qe7+,Qe2,Qxe2+,Kxe2,cxd4,Bxd4,Ne4,Nbd2,Bc5,Bxg7,Rg8,Bd4,Bxd4,Nxd4,Rxg2,Rag1', 'Rxf2+,Ke3,Rxd2,Rg8+,Nf8', 'https://lichess.org/training/cQaUs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cqC6w', 'Blitz', 'Frei_bauer', 1536, 'Barker73', 1506, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,g4,Bg6,Nc3,Nd7,h4,Nb6,h5,Nxc4,hxg6,fxg6,d3,Nb6,Bg5,Qd7,d4,h6,Be3,exd4,Bxd4,O-O-O,Qd3,Qxg4,O-O-O,Nf6,Bxb6,axb6,Nd4,g5,f3,Qf4+,Kb1,Re8,Rhe1,g6,Nd5,Nxd5,exd5,Bg7,Qxg6,Rxe1,Rxe1,Bxd4', 'Re8+,Kd7,Qe6#', 'https://lichess.org/training/cqC6w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cqCUL', 'Classical', 'Blunder-Storm', 1749, 'Maskotthien', 1711, 'e4,d6,d4,Nf6,Nc3,g6,Bg5,Bg7,Nf3,Bg4,Be2,Nbd7,h3,Bxf3,Bxf3,O-O,O-O,c5,d5,Ne5,a3,a5,Be2,c4,f4,Qb6+,Kh1,Ned7,Bxc4,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/cqCUL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CQcvp', 'Rapid', 'Masachus', 1763, 'Nurohmad', 1770, 'e4,d5,e5,a6,Nf3,e6,d4,h6,c4,c6,Nc3,Bb4,a3,Bxc3+,bxc3,b6,cxd5,cxd5,Rb1,b5,Be2,Ne7,O-O,Bd7,Qd3,Nbc6,Bd2,Na5,h3,Nc4,Ra1,Rb8,Bf4,a5,Nh2,a4,Qg3,Nf5,Qg4,Qh4,Qf3,Bc6,Bxc4,bxc4,Rab1,Rxb1,Rxb1,O-O,Ng4,Rc8,Ne3,Nxe3,Qxe3,Qe7,Qg3,Kh7,Rb4,Rg8,Qe3,g5,Bg3,Be8,Qc1,Rg6,Qb1,h5,f4,h4,Bh2,Kg7,Rb7,Qxa3,fxg5,Rxg5,Bf4,Rg6,Qe1,Qa2,Bd2,a3,Ra7,Qb2,Qf2,a2', 'Bh6+,Kxh6,Qxb2', 'https://lichess.org/training/CQcvp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cQFwo', 'Blitz', 't0m114', 1527, 'mahyar1387', 1554, 'e4,e5,Nf3,Nc6,Nc3,Bb4,d4,Qf6,d5,Nd4,Bg5,Nxf3+,Qxf3,Qxg5,Bc4,d6,Bb5+,Bd7,Be2,O-O-O,Qe3,Bxc3+,Qxc3,Qxg2,Rf1,Qxh2,Qa5,Bh3,Qxa7,Bxf1', 'Bg4+,f5,Bxf5+,Rd7,Qa8#', 'https://lichess.org/training/cQFwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CQfZ2', 'Rapid', 'sergech', 1953, 'PatrickBoocannon', 1960, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,Nf6,O-O,d6,exf5,Bxf5,Re1,Be7,d4,O-O,dxe5,Ne4,exd6,Bxd6,Qd5+,Kh8,Rxe4', 'Bxh2+,Nxh2,Qxd5', 'https://lichess.org/training/CQfZ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cqGif', 'Classical', 'lazywiz', 1928, 'lucasbahia93', 1641, 'c4,e6,g3,d5,Bg2,dxc4,Qa4+,Bd7,Qxc4,c6,Nf3,b5,Qc2,Bc8,Ne5,Bd7,Nxc6,Nxc6,Bxc6,Rc8,Bxd7+,Qxd7,Qd1,Qc6,O-O,Nf6,Nc3,Bc5,d3,O-O,Bf4,Bd4,Rc1,Qa6,Qb3,Rc5,e3,Bxc3,Rxc3,Rfc8,Rfc1,Rxc3,Rxc3,Rxc3,Qxc3,Nd5,Qe5,Qc8,e4,Nxf4,Qxf4,h6,d4,Qc2,d5,exd5,exd5,Qd1+,Kg2,Qxd5+,Kg1,Qxa2,Qb8+,Kh7,Qxb5,Qb1+,Kg2,Qe4+,Kg1,Kg6,Qa6+,f6,Qxa7,Qb1+,Kg2,Qxb2,Qe3,Qb7+,Qf3,Qxf3+,Kxf3,Kg5,h4+,Kh5,Kf4,g6,f3,f5,Ke5,g5', 'Kxf5,g4,fxg4#', 'https://lichess.org/training/cqGif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cQHwF', 'Classical', 'IcemanKimi', 1648, 'isfendiyar', 1701, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bb5+,c6,Bc4,e6,d4,Nf6,Bg5,Be7,Qf3,Nbd7,O-O-O,h6,Bh4,Nd5,Bxe7,Qxe7,Nxd5,cxd5,Bb5,O-O,Nh3,a6,Bd3,b5,Nf4,b4,Qg3,Nf6,Qe3,a5,f3,a4,g4,b3,a3,bxc2,Bxc2,Re8,Qd3,Ba6,Qd2,Bc4,h4,e5,Rde1,Qd6,dxe5,Qe7,exf6,Qxf6,Rxe8+,Rxe8,Nxd5,Qc6,Rd1,Bb3,Nb4,Qxf3,Qd8,Qf4+,Kb1', 'Bxc2+,Nxc2,Rxd8', 'https://lichess.org/training/cQHwF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CQkkD', 'Rapid', 'julimes', 2056, 'EFG001', 1834, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bd3,Nf6,O-O,Be7,Kh1,b6,f4,d6,h3,Bb7,Be3,Nbd7,Qd2,Nc5,f5,e5,Nb3,Ncxe4,Nxe4,Nxe4,Bxe4,Bxe4,c3,f6,Rad1,d5,Qf2,Rb8,Nd2,Bd3,Rfe1,Bb5,Nf3,Bc6,Qg3,O-O,Bh6,Bd6,Qg4,Kh8,Bc1,Rbd8,Nh4,a5,Qh5,Kg8,Ng6,Rf7,Rd3,Bc5,Rg3,Bf2,Ree3,Bxg3,Rxg3,d4,c4,e4,Rg4,d3', 'Qxh7+,Kxh7,Rh4+,Kg8,Rh8#', 'https://lichess.org/training/CQkkD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cQMDF', 'Blitz', 'farreee', 1899, 'jerdanty', 1735, 'e4,c5,Nc3,Nc6,Bb5,d6,Bxc6+,bxc6,d3,g6,f4,Bg7,Nf3,Nf6,O-O,O-O,h3,Qc7,Qe1,Bd7,Be3,Rad8,Qh4,h6,f5,g5,Bxg5,hxg5,Nxg5,d5,exd5,cxd5,Nxd5,Qe5', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/cQMDF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cQMJx', 'Blitz', 'isidmart88', 2024, 'grayfolk', 2080, 'e4,c5,Nc3,e6,f4,d5,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,d4,Ne2,Nf6,d3,Be7,O-O,Nc6,a3,a5,Qe1,h5,Bd2,g6,Rd1,a4,c3,c4,dxc4,Nxe4,Nexd4,Nxd2,Rxd2,Qc7,Qe4,O-O,Nb5,Qc8,Ne5,Nxe5,fxe5,Bg5,Rdf2,Qc5,Kh1,Be7,Nd4,Qxc4,Qxb7,Qc5,Qe4,Rad8,Rxf7,Rxf7,Qxg6+,Rg7,Qxe6+,Kh7,Nf5,Qf2', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/cQMJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CQmlw', 'Rapid', 'Jacekp37', 1508, 'Zxpnew', 1515, 'e4,d5,Nc3,dxe4,Nxe4,Qd5,d3,Qe6,Nf3,h6,Be3,f5,Nc5,Qc6,g3,g5,Ne5,Qxh1,Qe2,Qd5', 'Qh5+,Kd8,Nf7+,Qxf7,Qxf7', 'https://lichess.org/training/CQmlw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cQnpa', 'Rapid', 'TENGIZ12', 2147, 'Daniel002', 2051, 'd4,c6,Bf4,Nf6,c4,d6,e3,g5,Bg3,h5,h3,Ne4,Bh2,Bg7,Bd3,d5,Nc3,Nxc3,bxc3,Nd7,Be2,Nf6,Be5,Bf5,cxd5,Qxd5,Nf3,O-O-O,Nxg5', 'Qxg2,Rf1,Qxg5', 'https://lichess.org/training/cQnpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CQOnT', 'Rapid', 'm-nihad', 1631, 'matyiszlav', 1634, 'e4,e5,c3,Nc6,Nf3,Nf6,Bd3,d6,O-O,Be7,Re1,O-O,b4,a6,a4,Bd7,Bb2,Na7,Na3,c6,Nc4,b5,axb5,axb5,Ne3,c5,bxc5,dxc5,Nf5,c4,Nxe7+,Qxe7,Ba3,Qd8,Bxf8,Kxf8,Bc2,Bc6,Nxe5,g6,Nxc6,Nxc6,Rxa8,Qxa8,e5,Nd7,e6,fxe6,Rxe6,Nce5,Qe2,Kf7,Be4', 'Qa1+,Qf1,Qxf1+,Kxf1,Kxe6', 'https://lichess.org/training/CQOnT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cqP0k', 'Blitz', 'LittleKiddo', 2711, 'IM Lynxinner', 2616, 'Nf3,d5,c4,Nf6,e3,e6,Nc3,c5,cxd5,exd5,d4,Nc6,Bb5,cxd4,Nxd4,Bd7,O-O,Bd6,Nf3,Be6,b3,O-O,Bb2,Rc8,Rc1,Re8,h3,h6,Ne2,Bb8,Ned4,Qd6,Nxc6,bxc6,Ba6,Rcd8,Be5,Qa3,Bxf6,gxf6,Rxc6,Qxa2,Nd4,Rd6,Bb5,Rxc6,Bxc6,Rd8,Qh5,Kg7,g3,Qa6,Rc1,Qd3,Bb5,Qg6,Qxg6+,Kxg6,Bd3+,Kg7,Rc6,Rd6,Rxd6,Bxd6,Bf5,Bc5,Nxe6+,fxe6,Bxe6,d4,e4,d3,Bg4,Kf7,Kg2,Ke7,f4,Kd6,Bd1,Bd4,Kf3,Kc5,g4,Kb4,e5,fxe5,f5,e4+,Kxe4,Kc3,Kf4,Bf6,Ke4,Kd2,Bf3,Kc2,b4,d2,Kd5,d1=Q+', 'Bxd1+,Kxd1,Ke6', 'https://lichess.org/training/cqP0k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cqPLJ', 'Classical', 'kadumkomut', 1688, 'HenryNico', 1744, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Nf6,d3,Be7,b3,h6,Bb2,O-O,Nbd2,Bb7,Nc4,Nh7,Na5,Rb8,Nxb7,Rxb7,O-O,f5,Re1,f4,a4,Ng5,Nxg5,Bxg5,Qg4,Qc8,Qxc8,Rxc8,f3,c5,Kh2,Bh4,Rg1,a5,Bc3,Ra7,Rgf1,Rf8,Be1,Bg5,g3,fxg3+,Bxg3,c6,Rf2,Raf7,Raf1,Be3,Re2,Bd4,Kg2,Rf6,Be1,Rg6+,Kh2,Rgf6,Bxa5,Rxf3,Rxf3,Rxf3,Bc7,d5,exd5,cxd5,Bxe5,Bxe5+,Rxe5,Rf2+,Kg3,Rxc2,Rxd5,Kf7,d4,cxd4,Rxd4,Rc3+,Kg4,Rxb3,a5,Ra3,Rd5,Ke6,Rb5,g6,Rb6+,Kf7,a6,Ra4+,Kg3,g5,Rb7+,Kg6,a7,h5,Rb6+,Kf5,Rb5+,Kg6,Rb7,Ra3+,Kg2,Kf5,Rb5+,Kf4,Rb4+,Ke3', 'Rb3+,Rxb3,a8=Q', 'https://lichess.org/training/cqPLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cQpN9', 'Rapid', 'uncas5', 1836, 'LoneWolf11', 1877, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Nf3,c6,Bf4,Bd6,Bg5,Nbd7,g3,O-O,Bg2,h6,Bxf6,Nxf6,O-O,Qe7,Nd2,Re8,f4,Bf5,Nf3,Ng4,Qd2,Bb4,Ne5,f6,Nxg4,Bxg4,Bf3,Bxf3,exf3,Qe3+,Qxe3,Rxe3,Rae1,Rae8,Kf2,Bxc3,bxc3,Rxe1,Rxe1,Rxe1,Kxe1,Kf7,Kd2,Ke6,Kd3,a6,c4,b5,cxb5,axb5,Kc3,Kd6,g4,c5,dxc5+,Kxc5,h4,b4+,Kd3,g6,g5,fxg5,fxg5,hxg5,hxg5,d4,f4', 'Kd5,f5,gxf5,g6,Ke6', 'https://lichess.org/training/cQpN9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cqsYh', 'Blitz', 'cutHA', 1804, 'CKOB', 1812, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,g3,Bc5,Bg2,Bg4,O-O,Nge7,h3,Bh5,Nbd2,O-O,Qc2,Nb4,Qd1,Bg6,Nb3,Bc2,Qd2,Bxb3,axb3,Nbc6,e6,fxe6,Qg5,Rf5,Qg4,e5,Nh4,Rf7,Bg5,Qd6,Be4,h6,Qh5,hxg5', 'Qh7+,Kf8,Qh8+,Ng8,Ng6+,Qxg6,Bxg6', 'https://lichess.org/training/cqsYh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CQt2b', 'Rapid', 'GeorgyM89', 2016, 'UPu36ESM', 2003, 'd4,d5,Nf3,Nc6,g3,Nf6,Bg2,Bf5,a3,e6,O-O,Bd6,Re1,O-O,Nbd2,Ne7,c4,c6,c5,Bc7,b4,b6,Bb2,b5,Nh4,a5,Nxf5,Nxf5,e4,dxe4,Nxe4,Nd5,Qd2,axb4,axb4,Rxa1,Rxa1,Nfe7,Ra7,f5,Ng5,Rf6,Qe1,Qc8,Qa1,Nxb4,Ra8,Bb8,d5,Nexd5,Be5,Nc7,Qa5,Nxa8,Qxa8,Rf8,Bxb8,Qxb8,Qa3,Nd5,Nxe6,Rf6,Nd4,b4,Qb3,Qe5', 'Nxc6,Qe1+,Bf1,Kf8,Qxd5', 'https://lichess.org/training/CQt2b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cQtkL', 'Rapid', 'fallenxxxsky', 1995, 'Stoddart00', 2037, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nf6,Bd3,Bxd3,Qxd3,e6,O-O,Bd6,Ne5,Bxe5,dxe5,Qxd3,cxd3,Ng4,f4,O-O,Ne4,Rd8,Nd6,f6,d4,Na6,Rf3,c5,dxc5,Nxc5,Rg3,fxe5,fxe5,Nxe5,Bxh6,g6,Nb5,a6,Nc3,Kh7,Bg5,Rd3,hxg6+,Kg7,Rxd3,Nexd3,b3,Kxg6,Be3,Rc8,Bxc5,Rxc5,Ne4,Rc2,Rf1,e5,Rf3,Nf4,a4,Rxg2+,Kf1,Rb2,Nd6,Rb1+,Kf2,Rb2+,Kg3,Nh5+,Kg4,Rg2+,Kh3,Rd2,Nxb7,Nf4+,Kg3,Rg2+,Kh4,Kf5,Nd6+,Ke6,Nc4,Rg8,Re3', 'Ng2+,Kh3,Nxe3', 'https://lichess.org/training/cQtkL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CquDx', 'Rapid', 'NITianrock', 1813, 'nachonachonacho', 1798, 'e4,e6,Nf3,d5,exd5,exd5,h3,Nf6,d4,Be7,Bd3,O-O,O-O,c5,c3,b6,Bg5,a5,b3,Nbd7,Nbd2,Ba6,Bxa6,Rxa6,dxc5,bxc5,Re1,h6,Bh4,g5,Bg3,Nh5,Bh2,Nf4,Bxf4,gxf4,Nh2,Kh8,Qe2,Re6,Qh5,Rxe1+,Rxe1,Bg5,Ndf3', 'Nf6,Qxg5,hxg5', 'https://lichess.org/training/CquDx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cQvkW', 'Rapid', 'Suchtl', 2261, 'theodoroumarios1991', 2246, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Bb4+,Nbd2,O-O,O-O,c5,a3,Bxd2,Qxd2,cxd4,Nxd4,Bxg2,Kxg2,Nc6,b3,Rc8,Bb2,Nxd4,Qxd4,d5,cxd5,Qxd5+,Qxd5,Nxd5,Rac1,Rfd8,e4,Nf6,f3,Rd2+,Rf2,Rcd8,Rc2,R2d3,b4,h5,Bc3,Kh7,Rfd2', 'Rxc3,Rxc3,Rxd2+', 'https://lichess.org/training/cQvkW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cqVqP', 'Rapid', 'euhplayer1', 1866, 'Urlanaparveen1', 1860, 'd4,e5,dxe5,Nc6,e4,Qe7,Nf3,Qb4+,Nc3,Qe7,Bg5,Qb4,Bc1,Qa5,Bd2,Bb4,Nd5,Bxd2+,Qxd2,Qxd2+,Nxd2,Kd8,f4,Nge7,O-O-O,Nxd5,exd5,Ne7,Nb3,d6,h3,Ng6,g3,dxe5,f5,Bxf5,d6,Rc8,Bc4,Rf8,g4,Be4,Rhe1,Bc6,dxc7+,Kxc7,Na5,Bf3,Rd2,Kb8,Rd7,b6,Bxf7,bxa5,Bxg6,hxg6,Rxe5,Bg2,Rxa5,Bxh3,Raxa7,Bg2,Rxg7,Be4,c3,Rcd8,b4,Rf1+,Kb2,Rb1+,Ka3,Rc1,Kb2,Rb1+,Ka3,Rc8,Rae7,Bg2,Rxg6,Rxc3+,Ka4,Rc8,Rb6+,Ka8,Re5,Rb2', 'Ra5#', 'https://lichess.org/training/cqVqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CqvWg', 'Blitz', 'batailley33', 1603, 'Maruk2005', 1671, 'e4,g6,Nf3,Bg7,Nc3,d6,d4,Nf6,d5,O-O,Bd3,c6,O-O,cxd5,Nxd5,Nxd5,exd5,Bg4,c4,Nd7,Rb1,Ne5,Be2,Bxf3,Bxf3,Nxf3+,Qxf3,Rc8,b3,a6,Re1,b5,cxb5,axb5,Bg5,f6,Be3,Rc3,Rec1,Qc7,Rxc3,Qxc3,Qd1,Qa5,Qe2,Rc8,Bd2,Qxa2,Qd1,Rc2,Be3,f5,Rc1,Rxc1,Qxc1,Qxb3,Qc8+,Bf8,Qe6+,Kh8', 'Bd4+,Bg7,Qc8#', 'https://lichess.org/training/CqvWg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cQWp4', 'Rapid', 'KNBvsK', 2200, 'WhiteBirch', 1900, 'e4,d5,exd5,Qxd5,Nf3,Qd8,Be2,c6,O-O,Nf6,d4,e6,c4,Be7,Nc3,Nbd7,Re1,O-O,h3,Qc7,Bf1,Re8,Ne5,Nxe5,dxe5,Nd7,Bf4,a5,Bd3,Nc5,Bc2,b5,cxb5,cxb5,Nxb5,Qb6,Nd6,Rd8,Nxc8,Raxc8,Qe2,Qxb2', 'Bxh7+,Kxh7,Qxb2', 'https://lichess.org/training/cQWp4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CQxki', 'Rapid', 'itsukinakano', 1899, 'Mauro1912', 1970, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Be7,e4,d6,Nf3,O-O,Bd3,Nbd7,O-O,c5,e5,dxe5,dxe5,Ng4,Qc2,Ndxe5,Nxe5,Nxe5,Bxh7+,Kh8,f4,Qd4+,Kh1,Ng4,Nb5,Qf6,Be4,g6,Rf3,Qh4', 'Rh3,Qxh3,gxh3', 'https://lichess.org/training/CQxki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CQXO8', 'Rapid', 'Cristianoberrettoni', 1866, 'Blitzerking', 1959, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,f3,Nc6,c4,Bc5,Be3,Qa5+,Nc3,a6,Nxc6,bxc6,Bxc5,Qxc5,Qd2,O-O,Be2,Bb7,g4,d5,exd5,cxd5,cxd5,Nxd5,Nxd5,Bxd5,Rc1,Qb6,b3,Rac8,Rxc8,Rxc8,Kf1,Qb7,Kg2,g6,Rc1,Rd8,Qe3,Rd7,Rd1,Kg7,Bc4', 'Bxf3+,Qxf3,Qxf3+,Kxf3,Rxd1', 'https://lichess.org/training/CQXO8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CQY0o', 'Rapid', 'JohniStyle', 1872, 'mistermuni', 1970, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nxc6,bxc6,e5,Nd5,Bd3,Nxe3,fxe3,Qh4+,g3,Qb4+,Nd2,Qxb2,Rb1,Qxe5,O-O,Bc5,Nc4,Bxe3+,Kh1,Qd5+,Rf3,Bc5,h3,Ba6,Nd6+,Bxd6,Bxa6,O-O,Kh2,Qxd1,Rxd1,Bc5,Rxd7,Rab8,Bc4,Rbd8,Rfd3,Bb6,R7d6,Rxd6,Rxd6,g6,Rxc6,Rd8,Bd3,Kg7,h4,Kf6,Kg2,Ke5,Kf3,h5,g4,hxg4+,Kxg4,Rd4+,Kg3,f5,Be2,Rd2,Kf3,Rd4,Kg3,Kd5,Rc8,Ke5,h5,gxh5,Bxh5,Ra4,c4,Rxa2,c5,Ba5,Ra8,Kd5,Re8,Bc7+,Kf3,e5', 'Bf7+,Kxc5,Bxa2', 'https://lichess.org/training/CQY0o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cqy52', 'Classical', 'stakanovic', 1900, 'kabengelekanuya', 1959, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,d6,Nf3,Nf6,e5,dxe5,Qxd8+,Nxd8,Nxe5,e6,Bg5,Bb4,Rc1,h6,Bd2,Nd7,Nd3,Bxc3,Bxc3,O-O,Bb4,Re8,Bb5,a6', 'Rxc8,Rxc8,Bxd7', 'https://lichess.org/training/cqy52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CQYyH', 'Classical', 'GMKasparov1994', 1856, 'Herlock10', 1787, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,dxc4,Bxf6,Qxf6,Nf3,Bb4,e3,Nd7,Ne5,Nxe5,dxe5,Qxe5', 'Qa4+,b5,Qxb4', 'https://lichess.org/training/CQYyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cr0yb', 'Classical', 'Cabelod', 1792, 'KING-WIZARD', 1863, 'e4,e6,Be2,d5,exd5,exd5,d3,Nf6,h3,Be7,Nf3,c6,O-O,O-O,Nbd2,Be6,c3,Nbd7,Qc2,Bd6,Nd4,Bb8,Nxe6,fxe6,d4,Qc7,Nf3,e5,dxe5,Nxe5,Ng5,h6,Ne6,Qd6,Nxf8', 'Nf3+,Kh1,Qh2#', 'https://lichess.org/training/Cr0yb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cr1T0', 'Rapid', 'cdamasus', 2161, 'Megadoggah', 2111, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nc6,Bc4,Nge7,Bb3,O-O,Qd2,a6,O-O-O,b5,Nxc6,Nxc6,f3,Qf6,a3,a5,Bc5,Rd8,Qd3,b4,Na4,bxa3,Bxa3,Nb4,Qc3,Qg5+,Qd2,Qh4,Kb1,d5,g3,Qf6,exd5,Nxd5,Nb6,Bb7,Nxa8,Bxa8,Ka2', 'Nb4+,Ka1,Rxd2', 'https://lichess.org/training/Cr1T0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cr2aR', 'Classical', 'bestchessplyer', 1680, 'gambitonov', 1668, 'e4,d5,Nf3,dxe4,Ng5,Bf5,Nc3,Nf6,d3,h6,Ngxe4,Nxe4,dxe4,Qxd1+,Nxd1,Bxe4,Bd3,Bxg2,Rg1,Bf3,Ne3,e6,Rg3,Bd5,c4,Bc6,Bd2,Nd7,a3,O-O-O,b4,Ne5,Be2,g5,b5,Be4,Bc3,Nd3+', 'Bxd3,Bxd3,Bxh8', 'https://lichess.org/training/cr2aR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cr331', 'Rapid', 'tizzee', 1795, 'wiktormeteor', 1842, 'Nf3,d5,g3,Nf6,Bg2,c6,O-O,Bg4,d3,Nbd7,Nbd2,e6,e4,dxe4,dxe4,Bc5,Re1,O-O,a4,a5,c3,Qc7,Qc2,Rfd8,Rb1,h6,b4,axb4,cxb4,Be7,b5,c5,Nc4,b6,Bf4,Qc8,Rbd1,g5,Bd6,Bxd6,Rxd6,Qc7,Red1,Kf8,R1d2,Ke7,Nxg5,hxg5,e5,Nd5,R2xd5,exd5,Bxd5,Bh5,Qf5,Bg6,Qxg5+,Ke8,e6,Rxa4,exd7+,Rxd7,Qe5+,Kf8,Rxg6,Qxe5,Nxe5,Rxd5,Rg5,f6', 'Ng6+,Kg7,Rxd5', 'https://lichess.org/training/cr331');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cr3Oo', 'Classical', 'Boro-i-Ramiz', 1996, 'RaptorRobb6ix', 2026, 'd4,d5,e3,e6,Nf3,Bd6,Ne5,Nd7,f4,Nxe5,fxe5,Be7,g3,Bd7,c3,c5,Nd2,cxd4,exd4,f6,Nf3,b5,exf6,Nxf6,Ne5,b4,Bg5,O-O,Bd3,Rc8,Qc2,h6,h4,bxc3,bxc3,Ne4,Bxe4,dxe4,Bxe7,Qxe7,Ng6,Qd6,Nxf8,Qxg3+,Qf2,Qxc3+,Kf1,Qxa1+,Kg2,Qc3,Nxd7,Qc6,Ne5,Qd5,Rf1,e3+,Qf3,Rc2+,Kh3,Qxf3+,Rxf3,e2,Re3', 'Rc3,Rxc3,e1=Q', 'https://lichess.org/training/Cr3Oo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cr3s2', 'Rapid', 'MouseSlip', 1847, 'Zoran972', 1774, 'e4,e6,d3,d6,Nf3,b6,c3,Bb7,Nbd2,Nd7,b4,a6,Bb2,e5,Be2,Ngf6,O-O,g6,Re1,Bg7,Bf1,O-O,d4,Nh5,d5,c6,c4,c5,a3,a5,b5,Ndf6,Nb1,Bc8,Nc3,Nf4,Bc1,N6h5,Na4,Qd7,Nxb6,Qg4,Nxa8', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/cr3s2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cr6c5', 'Rapid', 'Abyssal_Corps', 1640, 'Anil14', 1626, 'g3,e5,Bg2,Nf6,Nc3,Nc6,e4,Bb4,Nf3,d6,a3,Ba5,b4,Bb6,b5,Nd4,Nxd4,Bxd4,a4,b6,Rb1,Bb7,O-O,O-O,Re1,h5,Bb2,d5,Nxd5,Nxd5,exd5,Bxd5,Bxd4,Bxg2,Bc5,bxc5,Kxg2,g6,d3,Qd5+,Re4', 'f5,c4,Qb7,f3,fxe4', 'https://lichess.org/training/cr6c5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cR6Ko', 'Rapid', 'Rajes2021', 1702, 'bok20', 1725, 'e4,c5,Bc4,e6,d3,Nc6,a3,Nf6,h3,Be7,Nf3,O-O,e5,Ne8,d4,cxd4,Nxd4,Qa5+,Nc3,Qxe5+,Nde2,d5,Bd3,Nf6,O-O,Bd6', 'Bf4,Qxf4,Nxf4', 'https://lichess.org/training/cR6Ko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cr7om', 'Rapid', 'Mayconwilham', 2249, 'Beister12', 2193, 'd4,d5,c4,e6,g3,Nf6,Bg2,Be7,Nf3,O-O,O-O,a6,Qc2,c6,Nbd2,b5,c5,Nbd7,Re1,Re8,e4,dxe4,Nxe4,Nxe4,Rxe4,Nf6,Rh4,Bb7,Ne5,Rc8,Bg5,h6,Bxh6,gxh6,Rxh6,Bf8,Rh8+,Kxh8,Nxf7+,Kg7,Nxd8,Rcxd8,Qd2,Kf7,a4,Bxc5,Rc1,Bxd4,Qf4,e5,Qf5,Bxb2,Re1,Bc3,Re3,b4,Rf3,Rd1+,Bf1,e4,Qh7+,Ke6,Rxf6+,Kxf6,Qh4+,Kf7,Qh7+,Bg7', 'Qh5+,Ke7,Qxd1', 'https://lichess.org/training/cr7om');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CR9Cf', 'Rapid', 'AlexandreLucas', 1616, 'lkameya', 1606, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,Nbd2,Bg4,O-O,Be7,h3,Bh5,g4,Bg6,b3,a6,Bxc6+,bxc6,Bb2,O-O,d4,exd4,Nxd4,Qd7,Re1,c5,Nf5,Rfe8,Nc4,Bd8,e5,dxe5,Nxe5,Qb5,a4,Qb4,Nxg6,hxg6,Rxe8+,Nxe8,Ne3,Bg5,Ba3,Qc3,Nd5,Qxh3,Bxc5,Rd8,c4,Bf6', 'Nxf6+,Nxf6,Qxd8+', 'https://lichess.org/training/CR9Cf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CRA2u', 'Rapid', 'SacrifTal', 1995, 'fabios', 1964, 'e4,e5,Nf3,Nf6,d4,Nxe4,Nxe5,Be7,Nc3,Nf6,Bd3,O-O,O-O,Nc6,Re1,d6,Nxc6,bxc6,h3,Re8,Qf3,Bb7,Ne4,Nxe4,Qxe4,g6,Qg4,Bf6,Bh6,Bg7,Qf4,Qd7,Bxg7,Kxg7,c3,Rxe1+,Rxe1,Re8,Rxe8,Qxe8,Kf1,Qe6,Bb1', 'Ba6+,Kg1,Qe1+', 'https://lichess.org/training/CRA2u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CrAbb', 'Rapid', 'zadu', 2080, 'Malddoror', 2119, 'e4,c6,d4,d5,e5,e6,c4,Bb4+,Bd2,Bxd2+,Nxd2,h6,Ngf3,a6,b4,Ne7,a4,O-O,Bd3,Nd7,c5,Qc7,Bc2,f6,Nh4,fxe5,O-O,exd4,Qg4,e5,Ng6,Nf6,Qg3,Nh5,Qh4,Nxg6,Bxg6,Nf4,Qg3,Nxg6,Qxg6,Bf5,Qg3,Qe7,Rfe1,e4,Ra3,d3,Rxd3,a5,bxa5,Qxc5,Rb3,Ra7,Reb1,Qxa5,Rxb7,Rxb7,Rxb7,g6,Qe5,Rf7,Rb2,Qxa4,h3,Qa7', 'Rb8+,Qxb8,Qxb8+', 'https://lichess.org/training/CrAbb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CRaCS', 'Blitz', 'chessd5', 2305, 'IM FightingDragon', 2402, 'd4,Nf6,Bg5,Ne4,Bf4,c5,d5,Qb6,Bc1,e6,f3,Nf6,e4,exd5,exd5,Bd6,Nd2,O-O,Nc4,Re8+,Kf2,Qc7,g3,Be5,d6,Qc6,a4,Bd4+,Kg2,b6,c3,Bxg1,Rxg1,Bb7,Be2,Qc8,Kf2,Nc6,f4,Ne4+,Kf1,Na5,Nxa5,bxa5,Bf3,Re6,Kg2,Rxd6,Qc2,Nf6,Qf2,Ng4,Qe2,Re6,Qd1,Ne3+,Bxe3,Rxe3,Rf1,Qc7,Qd2,Rae8,Rf2,h6,Bd5,Ba6,c4,Bb7,Raf1,Bxd5+,Qxd5,Rb8,Rd1,Reb3,Rdd2,d6,f5,R8b6,f6,g6,Rde2,Rb8', 'Re7,Qb7,Rxb7', 'https://lichess.org/training/CRaCS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cRatB', 'Rapid', 'iris45', 1906, 'SantosTB', 1720, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,e5,Nf3,h6,Nc3,Be6,Qe2,Nc6,Bc4,Bxc4,Qxc4,Rc8,Qb5,Qd7,O-O,a6,Qd3,Be7,Rd1,O-O,Nd5,Nxd5,Qxd5,Nb4,Qb3,Nxc2,Rb1,Rc7,Nxe5,Qe6,Qxe6,fxe6,Nf3,Rfc8,Bd2,Rc4,e5,d5,b3,R4c6,Kf1,Bb4,Bxb4,Nxb4,Nd4,Rc3,a3,Nc6,Nxe6,Nxe5,Rxd5,Rc1+,Rd1,R1c2,f3,Ra2,a4,Rcc2,Nf4,Kh7,Re1,Ng6,Ne2,Ne5,Rbd1,Nc6,Rc1,Rd2,Ra1', 'Rxe2,Rxe2,Rxa1+', 'https://lichess.org/training/cRatB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CRc0s', 'Rapid', 'NIK-59', 1791, 'PapoKarla', 1876, 'd4,d5,c4,Bf5,Nc3,e6,a3,Nf6,Bf4,Be7,c5,b6,b4,O-O,Nb5,a5,Bxc7,Qd7,e3,axb4,axb4,Rxa1,Qxa1,bxc5,bxc5,Ne4,Nf3,Nc6,Be2,Nb4,Qb2,Na6,Ne5,Qc8,Bb6,f6,Nc6,Qxc6,Na7,Qb7,O-O,Nc7,Ra1,Na8,Ba6,Qb8,Nc6,Qe8,Bb7,Nxb6,cxb6,Nd6,Ra8,Qd7,Nxe7+,Qxe7,Bc6,Rxa8,Bxa8,Nc4,Qb5,Qa3', 'Qe8+,Qf8,Qxf8+,Kxf8,b7', 'https://lichess.org/training/CRc0s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cRc3W', 'Classical', 'Captain_Awkward', 1662, 'Sergey4684', 1695, 'e4,e5,Bc4,h6,Nf3,d6,d4,exd4,Nxd4,Ne7,Nc3,Ng6,Be3,Ne5,Bb3,Be7,f3,O-O,Qd2,a6,O-O-O,b5,a3,c5,Nf5,Bxf5,exf5,b4,Nd5,bxa3,Kb1,axb2,Nxe7+,Qxe7,Bxh6,gxh6,Qxh6,Nbd7,Rxd6,c4,f6,Nxf6,Rxf6,cxb3', 'Qg5+,Ng6,Rxg6+,fxg6,Qxe7', 'https://lichess.org/training/cRc3W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('crCUu', 'Rapid', 'HeavyMetal77', 1909, 'garmaew', 1906, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,d5,Nd6,bxc3,Nxc4,dxc6,O-O,Qd5,Nb6', 'cxb7,Bxb7,Qxb7', 'https://lichess.org/training/crCUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('crF94', 'Blitz', 'JuanMartinKuhl', 1835, 'TRUQUINE', 1771, 'd4,Nf6,Bf4,d6,e3,g6,Bd3,Bg7,h4,h5,c3,Nbd7,Qc2,b6,Nf3,Bb7,Nbd2,Ng4,Bg3,Ndf6,O-O-O,Qd7,Bxg6,fxg6,Qxg6+,Kf8,Ng5,Qe8', 'Ne6+,Kg8,Qxg7#', 'https://lichess.org/training/crF94');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CrhjT', 'Rapid', 'Tiraspol1981', 1995, 'Antikaziyn', 1896, 'e4,e6,d4,d5,Nd2,Nf6,e5,Ne4,Nxe4,dxe4,f3,exf3,Nxf3,c5,Bd3,Nc6,c3,Qb6,O-O,cxd4,Kh1,dxc3,bxc3,h6,Rb1,Qc5,Rb5,Qe7,Be3,Qa3,Qe2,a6,Rb3,Qa5,Bb6,Qa4,Qf2,Be7,Ng5,O-O,Nxf7,Nxe5,Nxh6+,Kh8', 'Qxf8+,Bxf8,Rxf8#', 'https://lichess.org/training/CrhjT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('crhKi', 'Rapid', 'Vaishanth123', 1631, 'virenbakul', 1758, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Qg6,Bd3,Qxg2,Be4,Qg4', 'Qxg4,Bxg4,Bxb7', 'https://lichess.org/training/crhKi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('crj1K', 'Rapid', 'Yoshi1135', 1996, 'hatemahamed009', 1813, 'e4,e6,Nc3,Ne7,d4,Ng6,Nf3,Be7,Bc4,O-O,O-O,c6,Re1,b5,Bb3,a5,a3,b4,axb4,Bxb4,Bd2,Bb7,Ne2,Bxd2,Qxd2,d5,exd5,exd5,c4,dxc4,Bxc4,Nd7,Nc3,Nb6,Bb3,a4,Nxa4,Nxa4,Rxa4,c5,Rxa8,Qxa8,dxc5,Bxf3,gxf3,Qxf3,Qe3,Qg4+,Qg3,Qb4,Re3,Qxc5,h4,Ne7,Re5,Qc1+,Kg2,Ng6,Rg5,Nf4+,Kh2,g6,h5,Ne2,hxg6,Nxg3', 'gxf7+,Kh8,Rg8+,Rxg8,fxg8=Q#', 'https://lichess.org/training/crj1K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CrJqc', 'Rapid', 'Vicent54', 1980, 'Maggu2020', 1962, 'd4,d5,Nf3,Nc6,Bf4,Bf5,e3,e6,c3,Nf6,Bb5,a6,Bd3,b5,Bxf5,exf5,Ne5,Nxe5,Bxe5,Be7,h3,O-O,Nd2,Bd6,Nf3,Bxe5,Nxe5,Nd7,Nxd7,Qxd7,Qf3,a5,O-O,a4,a3,g6,Qf4,Rac8,f3,h5,e4,fxe4,fxe4,dxe4,Qxe4,Rfe8,Qf4,Re2,Rf2,Rce8,Raf1,R8e7,Rxe2,Rxe2,Rf2,Re6,Qf3,Qe7,Qa8+,Kg7,Qd5,Re1+,Kh2,h4,Qxb5', 'Qd6+,Qe5+,Rxe5', 'https://lichess.org/training/CrJqc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('crJsV', 'Blitz', 'CM Squaretaker', 2344, 'PercyStuart', 2175, 'c4,e6,Nc3,d5,cxd5,exd5,d4,c5,Nf3,Nc6,Bf4,a6,e3,Nf6,Bd3,Be7,dxc5,Bxc5,O-O,O-O,Bg5,Be6,Re1,h6,Bh4,Ba7,Rc1,Bg4,Be2,Qd6,Bxf6,Qxf6,Qxd5,Rad8,Qc4,Be6,Qh4,Qg6,Qg3,Qf6,Red1,Bb8,Qh4,Qg6,Rxd8,Nxd8,Nd4,Ba7,Nxe6,Nxe6,Qe4,Qg5,Qxb7,Bxe3,Ne4', 'Bxf2+,Nxf2,Qxc1+', 'https://lichess.org/training/crJsV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CrkHU', 'Rapid', 'LuisRodriguez07', 1753, 'thebillymurrays', 1626, 'd4,e6,Nf3,d5,Bg5,Be7,Bf4,Nf6,Nc3,c5,dxc5,Bxc5,Na4,Bd6,Qd4,Bxf4,Qxf4,Bd7,Nc5,Bc6,e3,Qa5+,Nd2,Qxc5,O-O-O,Na6,Bxa6,bxa6,Qc7,O-O,Qf4,Nh5,Qg4,Nf6,Qg3,d4,exd4,Qxd4,Nb3,Qa4,a3,Ne4,Qe3,f5,f3,Nf6,Qxe6+,Kh8,Qxf5,Nd7,Qg5,Nb6,Rd4,Qb5,Qd2,Nc4,Qf2,Qg5+,Kb1,Nxa3+,bxa3,Rad8,Rhd1,Rxd4,Nxd4,Rd8,Nxc6,Rxd1+,Kb2,Qb5+,Nb4,Qe5+,c3,a5,Qxa7,Qe2+,Nc2,Qb5+,Nb4,Rd2+,Kc1,Qf1+,Kxd2,Qxg2+,Ke3', 'Qg1+,Kd3,Qxa7', 'https://lichess.org/training/CrkHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('crKkd', 'Rapid', 'attila91', 1755, 'beppe88', 1883, 'c4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,Nc3,d6,d4,Nbd7,d5,a5,Nd4,Nc5,O-O,Re8,Bg5,h6,Bxf6,Bxf6,a3,e5,dxe6,Nxe6,e3,Nc5,b4,Ne6,Nd5,Bg7,Rc1,c6,Nc3,axb4,axb4,Qb6,b5,Nxd4,exd4,Bxd4,bxc6,bxc6,Na4,Rxa4,Qxa4,Re2,Qxc6,Bxf2+,Kh1,Qb2,Qxc8+,Kg7,Rb1,Qc2,Rbc1,Qd2,Rcd1,Qc2,Rc1,Qd2,Rfd1,Qb2,Rb1,Qc2,Bf1,Bc5,Bxe2', 'Qe4+,Bf3,Qxf3#', 'https://lichess.org/training/crKkd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Crkt9', 'Blitz', 'FM kasparovsabe', 2441, 'BUBBAFISHA', 2350, 'Nf3,d6,e4,g6,d4,Bg7,Bc4,e6,Bb3,Nc6,d5,exd5,Bxd5,Nge7,Bb3,O-O,O-O,Be6,Nc3,Bxb3,axb3,Qd7,Bg5,a6,Qd2,Rae8,Rad1,f5,Rfe1,Kh8,e5,Ng8,exd6,Rxe1+,Qxe1,cxd6,Qd2,h6,Bf4,Re8,Qxd6,Qf7,Qd7,Re7,Qc8,g5,Be3,f4,Bc5,Re8,Qg4,Qg6,h4,Nf6,h5,Qxc2,Qh3,g4,Qh4,gxf3,Qxf4,fxg2,Rd6,Nxh5,Qf7,Re1+,Kxg2,Qc1,Qxh5,Rg1+,Kf3,Ne5+,Ke4,Re1+,Ne2,Qc2+,Kd5,Rd1+,Nd4,Rxd4+', 'Bxd4,Qxb3+,Ke4', 'https://lichess.org/training/Crkt9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CRL7y', 'Rapid', 'apollo017', 2096, 'DrGogo', 1894, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,c6,Bd3,h6,h3,Nf6,Qf3,O-O,Qg3,Nh5,Qf3,Nf6,Qg3,Nh5,Qe3,Bg5,Qf3,Bxc1,Rxc1,Nf6,O-O,Nh7,Nf5,Nd7,Nxd6', 'Ne5,Qe3,Qxd6', 'https://lichess.org/training/CRL7y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CrMIl', 'Rapid', 'Gerasim5088', 1899, 'hadi20', 1966, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,g3,fxg3,O-O,gxh2+,Kh1,d5,Bxd5,Nf6,Bxf7+,Kxf7,Nxh4,Kg8,d3,Nxe4,dxe4,Qxh4', 'Qd5+,Be6,Qxe6#', 'https://lichess.org/training/CrMIl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CRMwN', 'Bullet', 'Drersin', 1816, 'Lagune', 1845, 'e4,d6,d4,g6,Nc3,Bg7,Be2,Nf6,g4,O-O,g5,Nfd7,h4,c5,Be3,cxd4,Bxd4,e5,Be3,Nc5,Qd2,Nc6,O-O-O,Nd4,Bxd4,exd4,Nd5,Nxe4,Qf4,Bf5,Bd3,Be5,Qf3,Qd7,Bxe4,Bg4,Qd3,Bxd1,Qxd1,Qa4,Kb1,Rac8,h5,Rc5,hxg6,fxg6,Qg4,Rf4,Qe6+,Kg7,Bd3,Rxf2,Rxh7+,Kxh7,Qxg6+,Kh8,Qh6+,Kg8,Bh7+,Kf7', 'Qg6+,Kf8,Qg8#', 'https://lichess.org/training/CRMwN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cRMz1', 'Blitz', 'larrcasmic', 1773, 'Manche20205', 1748, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,Be7,Bxf6,Bxf6,e4,fxe4,Nxe4,O-O,Nxf6+,Qxf6,Nf3,c5,d5,Qxb2,Rb1,Qxa2,Bd3,exd5,cxd5,Kh8,Bc2,d6,O-O,Qa5,Qd3,Bf5,Qb3,Bxc2,Qxc2,b5,Ng5,g6,Rfe1,Nd7,Re7,Nf6,Ne6,Rg8,Qc1,Rae8,Qg5,Ne4', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/cRMz1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cRnWF', 'Blitz', 'Dmitry_Kornilovich', 2325, 'IM testviking', 2509, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f3,h5,Qd2,Nbd7,Be2,Rc8,Nd5,Bxd5,exd5,Nb6,c4,Nxc4,Bxc4,Rxc4,O-O,Be7,Na5,Rc7,Bb6,Rc2,Qb4,Nxd5,Bxd8', 'Nxb4,Bxe7,Kxe7', 'https://lichess.org/training/cRnWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CRrBT', 'Rapid', 'ZeratulSH', 1844, 'rokirovka1940', 1811, 'd4,d5,Bf4,e6,Nf3,Be7,e3,Nf6,Bd3,Nbd7,O-O,c5,c3,c4,Bc2,b5,Nbd2,a5,a3,Bb7,b4,axb4,axb4,Rxa1,Qxa1,Qa8,Ne5,O-O,Qb1,h6,Ndf3,Qa3,Qa1,Ra8,Qe1,Qa2,Qd2,Nb6,h3,Na4', 'Bh7+,Kxh7,Qxa2', 'https://lichess.org/training/CRrBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cRsf8', 'Blitz', 'Jaberi', 2015, 'Captain-nabil11', 2037, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,Bg5,Nf6,Nbd2,Bg4,c3,O-O,b4,Bb6,a4,a6,a5,Ba7,h3,Be6,Qb3,Bxc4,Nxc4,h6,Be3,Ne7,Bxa7,Rxa7,Ne3,Nh5,g3,Nf6,O-O,Ra8,Rad1,c6,Nh4,Qc8,Kg2,g6,f4,exf4,Rxf4,Kg7,Rdf1,Neg8,Nhf5+,gxf5,Nxf5+,Kh7,Nxd6,Qe6,Qc2,Qxd6,e5,Qd5+,Kh2,Nh5,d4+,Kh8,Rh4,Ng7,Qd2,Qe6,Rf6,Nxf6', 'Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/cRsf8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CrTvP', 'Classical', 'MarinBylyku', 1634, 'xxiv_iii', 1676, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Ndb5,d6,Bf4,e5,Bg5,a6,Na3,Be7,Nc4,b5,Bxf6,gxf6,Ne3,Bb7,g3,Nd4,Ncd5,Rc8,Bh3,Rb8,f4,Ne6,Qh5,Ng7,Qh6,Ne6,fxe5,dxe5,Rf1,Ng5,Qg7,Rf8,O-O-O,Bxd5,Nxd5,Qa5,Qxf6,Bxf6', 'Nxf6+,Ke7,Rd7#', 'https://lichess.org/training/CrTvP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('crUeD', 'Rapid', 'Nicole22', 1748, 'dsaiko', 1786, 'e4,e5,Qh5,Qf6,Nf3,d6,Bc4,Qg6,Qxg6,fxg6,Ng5,Nh6,d3,Be7,Ne6,Bxe6,Bxh6,gxh6,Bxe6,Nc6,O-O,Nd4,Bb3,Nxb3,axb3,O-O,Nc3,a6,Nd5,Bd8,c4,c6,Ne3,Bb6,b4,Bd4,Ra2,b5,b3,Bc3,c5,Bxb4,cxd6,Bxd6,Rc1,Rfc8,Ng4,Kg7,Ne3,h5,h4,Kf6,g4,hxg4,Nxg4+,Kg7,f3,h5,Nh2,a5,Nf1,a4,bxa4,Rxa4,Rxa4,bxa4,Ra1,a3,Nd2,Ra8,Nc4,Be7,Nxe5,Bf6,d4,Bxe5,dxe5,Kf7,f4,Ke6,Kf2,Ra4,Ke3,c5,Ra2,c4,Kd4,c3+,Kxc3,Rxe4,Rf2,Kf5,Kb3,Re3+,Ka2,Rh3,Rg2,Rf3,e6,Kxe6,Rxg6+,Kd5,Rg5+,Kc4,f5,Kb4,Rxh5,Rf2+,Ka1,Kb3,f6', 'Rf1#', 'https://lichess.org/training/crUeD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('crve9', 'Blitz', 'Sangoni', 1583, 'fransot', 1514, 'e4,e5,Nf3,d6,g3,Bg4,Bg2,Nc6,d3,Nd4,c3,Nxf3+,Bxf3,Bxf3,Qxf3,Nf6,O-O,Be7,Bg5,O-O,Nd2,Nd7,Qg4,Bxg5,Nf3,Bf6,d4,exd4,cxd4,Nb6,Rac1,Na4,b3,Nb2,Rc3,c5,Rc2,Nd3,Rd1,Nb4,dxc5,Nxc2,Rxd6,Qe7,Qf5,b6,e5,bxc5,Rxf6,gxf6,exf6,Qe6', 'Qg5+,Kh8,Qg7#', 'https://lichess.org/training/crve9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CRWXR', 'Blitz', 'Makabusung07', 2313, 'NM dmjjmd', 2337, 'd4,Nf6,Bg5,d5,Nd2,c5,Ngf3,Nc6,c3,Qb6,Qb3,c4,Qc2,Ne4,Nxe4,dxe4,Nd2,Qb5,Nxe4,Bf5,Bc1,Qd5,f3,e5,e3,Be7,g4,Bg6,h4,h5,g5,O-O,Bd2,b5,Bg2,b4,Qa4,exd4,cxd4,Nxd4,exd4,Qxd4,O-O-O,Qb6,Rhe1,Rfc8,Kb1,c3,Be3,c2+,Qxc2,Rxc2,Bxb6,Rxg2,Be3,a5,b3,a4,Rd2,Rxd2,Bxd2,a3,Kc2,Rc8+,Kd3,Rd8+,Ke2,Rd4,Rc1,Kh7,Rc4,Rxc4,bxc4,Bd8,Kd3,Ba5,Be1,b3', 'Bxa5,bxa2,Bc3', 'https://lichess.org/training/CRWXR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cS0HW', 'Blitz', 'Cabbage_Corp_CEO', 1636, 'abhaygoyal0005', 1668, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,b6,d4,exd4,Nxd4,Bb7,Nxc6,Bxc6,Qf3,f6,Qh5+,Ke7,Rd1,Qe8,Qxe8+,Kxe8,Nc3,Bb4,f3,Ne7,Bf4,Kd8,Nd5,Bxd5,exd5,Ng6,Bg3,h5,h4,Re8,c3,Bc5+,Kh2,f5,Kh3,f4,Bh2,Bf2,d6,c6,Bf7,Rf8,Bxg6,Rf6,Bxh5,Rh6,Rf1,Be3,Bg4,g5,h5,Ke8,Rae1,Kf7,Rxe3,Rah8,Re7+,Kf6,Rfe1', 'Rxh5+,Bxh5,Rxh5+,Kg4,Rh4#', 'https://lichess.org/training/cS0HW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CS13c', 'Rapid', 'Tuff1aha', 1780, 'wdiatr', 1844, 'd4,e5,c3,exd4,cxd4,d5,Nf3,Nc6,Nc3,Nf6,Bg5,Be6,e3,Bb4,Qb3,h6,Bh4,g5,Bg3,Ne4,Rc1,Ba5,Bb5,O-O,O-O,Bb6,Qc2,Nb4,Qb1,a6,Ba4,Nxg3,fxg3,c5,Rce1,Ba7,Bc2,cxd4,Nxd4,Nxc2,Qxc2,Rc8', 'Nxe6,fxe6,Qg6+', 'https://lichess.org/training/CS13c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cS4BY', 'Blitz', 'Galvanovsky', 1702, 'rabuske', 1621, 'd4,d5,c4,e6,e3,Nf6,Nf3,Be7,Bd3,Nbd7,a3,a5,Nc3,b6,O-O,Bb7,b3,c5,Bb2,O-O,Re1,Rc8,e4,cxd4,Nxd4,Nc5,Bc2,dxe4,b4,axb4,axb4,Na6,Nxe4,Nxb4,Nxf6+,Bxf6,Bb3,Ba6,Rc1,e5,Nf3,Nd3,Bxe5,Bxe5,Nxe5,Nxc1,Qxc1,Qc7,Qf4,f6,c5+,Kh8', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/cS4BY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cs79Z', 'Rapid', 'kerols5633', 1993, 'FESS2020', 2118, 'c4,g6,Nc3,Bg7,Nf3,Nf6,d4,c5,g3,cxd4,Nxd4,d6,Bg2,O-O,O-O,a6,Bg5,Qc7,b3,Nc6,Nxc6,bxc6,Rc1,Bb7,Qd2,Qd7,e4,d5,exd5,cxd5,Bxf6,Bxf6,Nxd5,Bxd5,cxd5,Rfd8,Qf4,Rac8,h4,Bb2,Rc4,Rxc4,bxc4,Qa4,Qc7,Rf8,Qxe7,Qxc4,d6,Ba3,Qc7,Qxc7,dxc7,Rc8,Bb7,Rxc7,Bxa6,Rc2,Ra1,Bc5,a4,Bxf2+,Kh1,Bxg3,h5,Rh2+,Kg1,Rxh5,Bc4,Bc7,Rb1,Rh4,Rb4,Bd6', 'Bxf7+,Kxf7,Rxh4', 'https://lichess.org/training/cs79Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSacL', 'Rapid', 'Rocannon', 1879, 'FBH11', 1977, 'd4,d5,Nc3,e6,e4,dxe4,Nxe4,Nc6,Nf3,g6,Bg5,Be7,Bxe7,Ngxe7,Qd2,Nf5,c3,Bd7,g4,Nd6,Nxd6+,cxd6,Qh6,Qf6,Bg2,O-O-O,O-O-O,e5,d5,Ne7,g5,Qf4+,Nd2,Nf5,Qh3,Qxg5,Rhg1,Nd4,Qd3,Nf5,Bh3,Qf6,Ne4,Qe7,f4,Kb8,Rge1,Qh4,fxe5,dxe5,Nc5,Bc6,Rxe5', 'Qf4+,Kb1,Qxe5', 'https://lichess.org/training/cSacL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSAff', 'Rapid', 'Mollari', 1675, 'kyrdedt', 1655, 'c4,c5,Nc3,d6,Nf3,Bd7,d4,Nc6,d5,Nb4,a3,Na6,Bf4,e5,Bg3,Be7,e3,Nh6,h3,Nf5,Bh2,O-O,e4,Nd4,Ne2,Nxf3+,gxf3,b5,Nc3,b4,axb4,Nxb4,f4,exf4,Bxf4,a5,Rg1,a4,Bh6,Bf6,Qd2,Re8,Bf4,Bd4,Bxd6,Bxf2+,Qxf2,Bxh3,Bxh3', 'Nd3+,Kf1,Nxf2', 'https://lichess.org/training/cSAff');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSAI8', 'Rapid', 'leo7788', 1763, 'souban7', 1843, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,g6,O-O,Bg7,Re1,O-O,e5,Ng4,exd6,Qxd6,Ne4,Qc7,h3,Nf6,Neg5,e6,d3,b6,Ne4,Bb7,Neg5,Nbd7,Nxe6,fxe6,Bxe6+,Kh8,Bg5,Rae8,Re3,Bd5,Bxf6,Nxf6,Bxd5,Nxd5,Rxe8,Rxe8,c3,Qe7,Qd2,Qe2', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/CSAI8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSaPy', 'Rapid', 'ddx1308', 1675, 'Sergey_ss', 1628, 'Nf3,d6,d4,Nf6,Nc3,c6,e4,Bg4,Be2,b5,b4,a5,Rb1,a4,a3,g6,h3,Bxf3,Bxf3,Bg7,O-O,O-O,Bb2,e5,d5,cxd5,Nxd5,Nbd7,Re1,Nb6,Qd3,Nbxd5,exd5,Qb6,Bc1,Rfc8,Be3,Qb7,Be2,Rc4,Rbc1,Nxd5', 'Bf3,e4,Bxe4,Rxe4,Qxe4', 'https://lichess.org/training/cSaPy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSaqf', 'Rapid', 'TO2010', 1860, 'Cdenji', 1805, 'd4,Nf6,Nf3,e6,Bg5,c5,dxc5,Bxc5,e3,O-O,Bd3,Nc6,O-O,Qb6,Qc1,Ng4,Nbd2,h6,Ne4,hxg5,Nxc5,Qxc5,Qd1,f5,Nd2,Qe5,g3,Qxb2,h3,Nge5,Be2,d5,c4,dxc4,Nxc4,Rd8,Qe1,Nxc4,Bxc4,a6,Rd1,Bd7,Rxd7,Rxd7,Bxe6+,Rf7,Qd1,Rd8,Qh5,Ne5,f4,gxf4,exf4,g6,Bxf7+,Kxf7,Qh7+,Kf6', 'Qh4+,Kg7,Qxd8', 'https://lichess.org/training/CSaqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSAr9', 'Rapid', 'elperro0', 1998, 'sextet', 1967, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bg4,h3,Bxf3,Qxf3,Nd7,Bc4,Ngf6,Qb3,e6,Bxe6,fxe6,Qxe6+,Be7', 'Nd6+,Kf8,Qf7#', 'https://lichess.org/training/cSAr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('csAwe', 'Rapid', 'Akass88', 1748, 'Alexandr1605', 1849, 'e4,e6,Nf3,b6,Bc4,Bb7,Nc3,Ne7,d4,d5,exd5,exd5,Bb3,Ba6,Bg5,f6,Ba4+,c6,Bf4,g6,Ne2,Bg7,O-O,O-O,Re1,b5,Bb3,Nd7,Qd2,Bc8,Ng3,Nb6,Qb4,Nf5,Nxf5,Bxf5,h3,a5,Qc5,a4,Bxa4,bxa4,Qxc6,Rc8,Qb5,Rxc2,b3,a3,Nh4,Bd7,Qd3,Rb2,Bc1,f5,Bxb2,axb2,Rab1,Qxh4,Rxb2,f4,Qf3,Bf5,Qc3,f3,Qxf3,Be4,Qc3,Qg5,f3,Bxf3,Rf1,Be4,Rxf8+,Bxf8,Rf2,Nd7,Qc7,Nf6,Qc6,Nh5', 'Qe6+,Kg7,Qf7+,Kh6,Qxf8+', 'https://lichess.org/training/csAwe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSAWT', 'Bullet', 'Jugand0_Ajedr3z', 1870, 'FM ubiq', 2172, 'e4,d5,Nc3,d4,Nce2,c5,d3,Nc6,f4,Nf6,Nf3,Bg4,h3,Bxf3,gxf3,Nh5,f5,e6,fxe6,Qh4+,Kd2,fxe6,c3,dxc3+,bxc3,O-O-O,Kc2,e5,Be3,Be7,Rb1,Rhf8,Kb2,Rxf3,Ka1,Rxe3,Qb3,Rd7,Rg1,Rexd3,Rg4,Qf2,Qe6,Kc7,Qb3,Nf6,Qxb7+,Kd8,Qxc6,Rc7', 'Rb8+,Rc8,Qxc8#', 'https://lichess.org/training/cSAWT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSByc', 'Blitz', 'artchess_999', 2060, 'smartskill', 1989, 'd4,d6,Bf4,Nf6,Nc3,g6,e4,Bg7,Qd2,O-O,O-O-O,c6,f3,Qc7,g4,e5,dxe5,dxe5,Bg5,Be6,h4,Nbd7,h5,Nb6,Bh6,Rad8,Qg5,Rxd1+,Nxd1,Rd8,Bxg7,Kxg7,h6+,Kf8,Qxf6,Qd6,Be2', 'Qd2+,Kb1,Qxd1+,Bxd1,Rxd1#', 'https://lichess.org/training/cSByc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSBZ5', 'Rapid', 'MvximusXVII', 1871, 'varadarajv', 1904, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bd6,Re1,O-O,c3,Ne7,d4,c6,Ba4,Bc7,dxe5,Ng4,h3,Nxe5,Bf4,Nd3', 'Bxc7,Qxc7,Qxd3', 'https://lichess.org/training/CSBZ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSD2N', 'Blitz', 'STRIDER_ST9', 1763, 'oribaa', 1760, 'd4,Nf6,c4,g6,Nc3,d6,e4,Bg7,Nf3,O-O,Bd3,b6,Be3,c5,d5,Nbd7,Qd2,Ne5,Nxe5,dxe5,Bh6,Qc7,Bxg7,Kxg7,h4,Nh5,g4,Bxg4,Be2,Bxe2,Qxe2,Nf4,Qf3,Qd6,O-O-O,e6,h5,Nxh5,Rxh5,gxh5', 'Rg1+,Kh8,Qf6#', 'https://lichess.org/training/CSD2N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSEwg', 'Rapid', 'vejari', 2111, 'adamsteed14', 2031, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bd3,Bxd3,Qxd3,Ngf6,O-O,e6,c4,Be7,Re1,O-O,Bf4,Qb6,b3,Rfe8,Rad1,Rad8,h3,c5,Qc2,cxd4,Nxd4,Bc5,Be3,Nb8,Nf3,Rxd1,Qxd1,Rd8,Qe2,Bxe3,Qxe3,Qxe3,Rxe3,Nc6,Kf1,Rd1+,Re1,Rxe1+,Kxe1,Nb4,a3,Nc2+,Kd2,Nxa3,Kc3,b5,c5,a5,c6,Nd5+,Kd4,b4,Kc5,a4,bxa4,b3,Nd2,b2,Kd6', 'Nc4+,Nxc4,b1=Q', 'https://lichess.org/training/CSEwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSFJo', 'Blitz', 'MIGV', 2549, 'DVRazor', 2454, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Nf3,Bb7,a3,Bxc3+,bxc3,Ne4,Qc2,O-O,Be2,f5,O-O,d6,Ne1,Qg5,f3,Nf6,e4,Qg6,e5,dxe5,dxe5,Nh5,f4,Nd7,Nf3,Nc5,Be3,Be4,Qb2,Nd3,Bxd3,Bxd3,Rf2,Bxc4,a4,c5,a5,Qg4,Nd2,Bd5,c4,Bc6,axb6,axb6,Rxa8,Rxa8,Qxb6,Ra1+,Nf1', 'Rxf1+,Kxf1,Qd1#', 'https://lichess.org/training/CSFJo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('csfq5', 'Blitz', 'CM Sarg0n', 2238, 'ElioBlaze', 2251, 'Nf3,d5,c4,e6,b3,Nf6,g3,c5,e3,Nc6,Bg2,Be7,O-O,O-O,Bb2,b6,Nc3,Bb7,cxd5,exd5,d4,Rc8,Ne5,Nxe5,dxe5,Ne4,Nxe4,dxe4,Qc2,Ba6,Rfd1,Bd3,Qc3,Qc7,Rac1,Rfd8,h4,f6,f3,exf3,Bh3,Be2,Bxc8,Bxd1,Be6+,Kf8,Kf2,fxe5,e4,Qd6,Bd5,Be2,Qxe5,Qxe5,Bxe5,Bd6,Bc3,g6,Bd2,Be7,Bh6+,Ke8,Bc6+,Kf7,Bd5+,Ke8,b4,Bf6,bxc5,bxc5,Rb1,Bd4+,Be3,Rc8,Rb7,Bxe3+,Kxe3,c4,Rxh7,c3', 'Rh8+,Kd7,Be6+,Kxe6,Rxc8', 'https://lichess.org/training/csfq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('csfWL', 'Rapid', 'pekerman2006', 2096, 'QWE16', 2133, 'e4,c5,Nc3,e6,f4,a6,Nf3,b5,d3,Bb7,g3,d5,Bg2,d4,Ne2,h5,O-O,Be7,Qe1,h4,g4,h3,Bh1,Bh4,Nxh4,Rxh4,Bf3,Nh6,g5,Nf5,exf5,Bxf3,Rxf3,Qd5,Qg3,exf5,Kf2,Rh8,Bd2,Nc6,Ng1,O-O-O,Nxh3,Ne7,c3,Ng6,cxd4,cxd4,Ba5,Rde8,Kg1,Nh4,Rf2,Re3,Rc2+,Kb8,Qf2,Nf3+,Kf1,Rxh3,Rac1,Nd2+,Rxd2,Qh1+,Qg1,Rhf3+,Rf2', 'Rxf2+,Kxf2,Qf3#', 'https://lichess.org/training/csfWL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CsfZT', 'Blitz', 'ptrtik', 1594, 'SimplyHyper', 1593, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Bd7,Bb5,Nc6,Nxc6,bxc6,Ba4,Qa5+,Qd2,Qxa4,Nc3,Qa5,O-O,g6,b3,Bg7,Bb2,Nf6,Rab1,O-O,e5,dxe5,Qxd7,Nxd7,Ne4,Nf6,Bc3,Qc7,Nc5,Nd7,Ne4,Nf6,Nc5,Rab8,a4,Nh5,Na6,Qc8,Nxb8,Qxb8,Rbd1,e4,Bd2,Be5,g3,Rd8,Be3,Rxd1,Rxd1,Kg7,Rd7,Bf6,g4,Nf4,Bxa7,Qe5,Be3,Nh3+,Kg2,Ng5,h4,Nf3,h5,Nh4+,Kf1,Qa1+,Ke2,Ng2', 'h6+,Kh8,Rd8#', 'https://lichess.org/training/CsfZT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSgqd', 'Rapid', 'Mwtorock', 1797, 'SXB', 1819, 'e4,e5,Nf3,d5,d3,Nc6,exd5,Qxd5,Nc3,Qd8,Be2,Bg4,Bg5,f6,Bh4,g5,Bg3,h5,h3,h4,Bh2,Bxf3,Bxf3,Nd4,Bxb7,Rb8,Be4,Rxb2,O-O,Rxc2,Bg6+,Ke7,Ne4,Rh6,Bf5,Nxf5,Qxc2,Kf7,Qc4+,Kg6,Qxg8+,Kh5,g4+,hxg3,Nxg3+,Nxg3,fxg3', 'Bc5+,Kg2,Qxg8,g4+,Kg6', 'https://lichess.org/training/CSgqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSgyp', 'Classical', 'michaelgoncalves', 1758, 'Pvsaraf', 1662, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,Nc6,a3,Nf6,d3,Be7,O-O,O-O,d4,cxd4,Nxd4,Bd7,Bg5,Ne5,Ba2,Nxe4,Nxe4,Bxg5,Nxg5,Qxg5,f4,Qg6,fxe5,dxe5,Ne2,Bc6,Ng3,f5,Qe2,f4,Nh1,e4,Rae1,f3,Qd2,Rad8,Qf2,Qg5,Bxe6+,Kh8,h4,Qg6,Bh3,Rf4,g3,Rxh4,Rd1,Rxd1,Rxd1,Rxh3,Rd8+,Be8,Qc5,Rxg3+,Nxg3', 'Qxg3+,Kf1,Qg2+,Ke1,Qe2#', 'https://lichess.org/training/CSgyp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('csH3D', 'Bullet', 'tello57', 1808, 'SA-17', 1782, 'e4,Nf6,e5,Nd5,Nf3,d6,Bc4,Nb6,Bxf7+,Kxf7,Ng5+,Kg8,Qf3,Qe8,e6,Nd5', 'Qf7+,Qxf7,exf7#', 'https://lichess.org/training/csH3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cshGE', 'Rapid', 'gobbar', 2108, 'waldemaro', 1699, 'e4,g6,d4,Bg7,f4,f6,Nf3,e6,h4,Nh6,h5,gxh5,Rxh5,Nc6,e5,f5,Ng5,d6,Rxh6,Bxh6,Qh5+,Kd7,Qxh6,Qe7,d5,Nd4,c3,Nc2+,Kd1,Nxa1,dxe6+,Kc6,Qh3,Bxe6,Qf3+,Bd5', 'Bb5+,Kxb5,Qxd5+', 'https://lichess.org/training/cshGE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSi6Y', 'Rapid', 'lucasio', 2231, 'Rankkobanovic61', 2027, 'd4,Nf6,Bg5,Ne4,Bf4,g5,Be5,f6,e3,h5,Be2,g4,Bf4,Bg7,h3,gxh3,Bxh5+,Kf8,Nxh3,d5,Bg4,Bxg4,Qxg4,Qd7,Qxd7,Nxd7,Nd2,Nxd2,Kxd2,c5,c3,e5,dxe5,fxe5,Bg3,Ke7,Ng5,Rxh1,Rxh1,Rh8,Rxh8,Bxh8,e4,d4,cxd4,cxd4,f4,Nc5,fxe5,Bg7,Bh4,Bxe5,Nf3+,Ke6,Ng5+,Kf6,Kd1,Bf4,Nf3+,Kf7,Nxd4,Nxe4,Ke2,Bc1,Kd3,Nc5+,Kc2,Be3,Nf5,Bf4,Bf2,Nd7,Bxa7,b6,b4,Ke6,Nd4+,Kd5,Ne2,Bd6,Kb3,Kc6,Nd4+,Kb7,a4,Kxa7', 'Nb5+,Kb7,Nxd6+', 'https://lichess.org/training/cSi6Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSJJ2', 'Classical', 'kevinabt', 1948, 'Artola1', 1788, 'e4,c5,Bc4,e6,Nc3,a6,d3,b5,Bb3,Nc6,Nge2,Nf6,O-O,d5,exd5,exd5,a3,Be6,Bg5,Be7,Nf4,c4,Nxe6,fxe6,Ba2,O-O,Re1,Qd7,Ne2,Qd6,Bh4,Ng4,Bg3,Qd7,Nf4,Nxf2,Qe2,Qa7,Qxf2', 'Bc5,Qxc5,Qxc5+', 'https://lichess.org/training/cSJJ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSjrZ', 'Rapid', 'FeelsKappablancaMan', 1782, 'Anti_GM1', 1799, 'b3,d5,Bb2,d4,Nf3,c5,e3,Nc6,Bb5,Bg4,h3,Bxf3,Qxf3,Qd6,exd4,cxd4,Bxd4,Nf6,Bb2,e6,d3,Be7,Nd2,O-O,Nc4', 'Qb4+,c3,Qxb5', 'https://lichess.org/training/cSjrZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSJzy', 'Rapid', 'racazabrryan', 2126, 'DREYZEQNV', 2099, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,h3,O-O,Bf4,Nbd7,e3,b6,Be2,Bb7,O-O,c5,Qd2,cxd4,exd4,Re8,Rfe1,Rc8,Rad1,Ne4,Qc2,Nxc3,Qxc3,Nf6,b3,Nh5,Bh2,Bh6,d5,Bg7,Qd3,Nf6,Nd4,Nd7,Bf3,Nc5,Qd2,a5,Re2,Nd7,Rde1,Ne5,Re3,a4,Bd1,axb3,axb3,Ra8,Nb5,Bf6,Qe2,Qb8,f4,Nd7,Bc2,Nc5,f5,Ra2,fxg6,hxg6,Kh1,Ba6,Nxd6,Qa8,Nxe8,Qxe8,d6,e6,Qd1,Bb7,Qb1,Qc6,R3e2,Ra1,Qxa1,Bxa1,Rxa1,Nd7,Bg3,Nf6,Rf1,Kg7,Ref2,Ne4,Rxf7+,Kg8,Be5', 'Ng3+,Kg1,Qxg2#', 'https://lichess.org/training/CSJzy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Csk8h', 'Rapid', 'leonardo48', 1774, 'FAM', 1799, 'e4,e5,c4,Nc6,Nf3,f6,Nc3,Bb4,Nh4,d6,Qh5+,Ke7,Nd5+,Kf8,Ng6+,hxg6,Qxh8,Be6,Ne3,Bc5,h4,Bxe3,fxe3,Nb4,Kd1,Bg4+,Be2,Qd7,h5', 'Bxe2+,Kxe2,Qg4+', 'https://lichess.org/training/Csk8h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSliv', 'Blitz', 'FM Iniciativa', 2423, 'GM vincentmasuka', 2484, 'Nc3,d5,d4,Na6,Bf4,Bf5,e3,Nb4,Rc1,e6,a3,Nc6,Bd3,g5,Bg3,h5,h4,Bxd3,cxd3,g4,Nge2,Bd6,Qb3,Nge7,O-O,Qd7,e4,Bxg3,fxg3,dxe4,dxe4,Nxd4,Qxb7,O-O,Rfd1,Rab8,Qa6,c5,Nf4,Rxb2,Qd3,Nec6,Nxh5,Qc7,Nf6+,Kg7,Nxg4,Ne5,Qe3,Nef3+,Kh1,Qxg3', 'Qh6+,Kg8,Nf6#', 'https://lichess.org/training/cSliv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSMZE', 'Classical', 'TheMightyFoxes', 1687, 'frosinkapro11', 1661, 'e4,e5,Nc3,Nf6,f4,exf4,Nf3,d5,e5,Nfd7,d4,Nb6,Bxf4,a6,Bd3,Nc4,Bxc4,dxc4,Qe2,Be6,d5,Bxd5,Nxd5,Qxd5,Rd1,Qa5+,c3,Qxa2,e6,f6,Bxc7,Be7,O-O,O-O,Bd6,Nc6,Bxe7,Nxe7,Rd7,Rfe8,Rxb7,Nd5,e7,Nxc3,Qe6+,Kh8,bxc3,Qa3,Qe3,h6,Rd1,a5,Qd2,Rxe7,Rxe7,Qxe7,Qd4,Rc8,Qd6,Qe3+,Kh1,Qxc3,Qd7,Ra8,Qb7,Rg8,Rd7,Re8,Rxg7', 'Re1+,Ng1,Rxg1+,Kxg1,Qe1#', 'https://lichess.org/training/cSMZE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('csN9M', 'Rapid', 'FJ_Messiah', 1958, 'Mixalaki2705', 1926, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,Bb4,Nf3,b6,e3,Bb7,Be2,O-O,O-O,Bxc3,bxc3,h6,Bh4,d6,a4,Qe8,a5,Ne4,Qd3,g5,Bg3,Qg6,d5,e5,axb6,cxb6,Nxe5,dxe5,Bxe5,Nd7,Bd4,Ndc5,Qc2,Bc8,f3,Nd6,Bxc5,bxc5,Ra5,Qe8,Kf2,Qe5,Rxc5,Qxh2,Rc6,Nf7,Bd3,Ne5,Rc7,Ng4+,fxg4,fxg4+,Ke1,Qxc7', 'Bh7+,Qxh7,Rxf8+', 'https://lichess.org/training/csN9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSNdI', 'Rapid', 'dirilis77', 1751, 'Narvatik', 1795, 'e4,c5,Nf3,Nc6,c3,e6,d4,d5,e5,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,Nge7,Bb5,Bd7,a4,a6,Be2,Nf5,Nb3,O-O,O-O,f6,Re1,fxe5,Nxe5,Nxe5,dxe5,Qg5,Rc1,Nh4,Bf1,Bxa4,Re3,Qf4,Qe1,Qg5,Rg3,Qf4,Rc7,Nf5,Nc5,Nxg3,hxg3,Qg4,Be2,Qf5,Nxa4,b5,Nb6,Rab8,Nd7,Rbc8,Ra7,Rf7,g4,Qc2,Rxa6,Rxd7,Rxe6,Qc1,Qxc1,Rxc1+,Kh2,Rb7,Bf3,Rd7,Rb6,Rc2,e6,Rd8', 'e7,Re8,Bxd5+', 'https://lichess.org/training/CSNdI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CsojN', 'Rapid', 'ekomanta', 1902, 'mrcorn', 1764, 'e4,e5,Nc3,Nc6,Bc4,Bc5,Nge2,Nf6,O-O,O-O,h3,d6,a3,Bb6,Na4,Nxe4,Nxb6,axb6,d3,Nc5,Ng3,Be6,Bb5,Qf6,c3,Qg6,d4,Nb3,Bd3,Qf6,Ne4,Qe7,Rb1,Nxc1,Qxc1,exd4,Ng5,dxc3,Bxh7+,Kh8,Be4,Ba2,bxc3,Bxb1,Bxb1,Qf6,h4,Ne5,Qc2,Qh6,g3,Rae8,f4,Ng4,Qf5,Nf6,Ba2,Qg6,Qh3,Re2,Bb1,Qh6,Qf5,Qg6,Qh3,Qh6,Bd3,Re3,Bc4,Nh5,Nxf7+,Rxf7,Qc8+,Kh7,Bxf7,Rxg3+,Kh2,Qf6', 'Qg8+,Kh6,Qh8#', 'https://lichess.org/training/CsojN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSokY', 'Rapid', 'escobar112', 1842, 'LantaiKuda', 1803, 'd4,d5,e3,Nf6,Nf3,Bf5,c4,e6,c5,c6,Ne5,Nbd7,Nxd7,Qxd7,b4,Be7,a4,O-O,a5,Qc7,Nc3,e5,dxe5,Qxe5,Bb2,Ne4,Qc1,Rad8,Bd3,Rfe8,Nxe4,Qe6,Nd6,Bxd6,Bxf5,Qxf5,cxd6,Rxd6,Bd4,Qg4,O-O,Rg6,g3,Rh6,Qd1,Qh3,Re1,Qxh2+,Kf1,Rg6,Qf3,Qh3+,Qg2,Qf5,Red1,h5,Qh2,Re4,Rd2,h4,gxh4,Qf3,h5,Rg5,h6,Reg4,h7+', 'Kh8,Bxg7+,Rxg7', 'https://lichess.org/training/CSokY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSOVj', 'Rapid', 'argotheking', 1955, 'sb19822008', 1864, 'd4,Nf6,c4,e6,Nc3,Be7,Bg5,d6,Nf3,Nbd7,e3,a6,h3,h6,Bh4,O-O,Bd3,d5,cxd5,Nxd5,Bxe7,Qxe7,O-O,Nxc3,bxc3,Nf6,e4,b5,Re1,Bb7,Qb3,c5,c4,bxc4,Qxc4,cxd4,Qxd4,Rfd8,Qe3,Qa3,e5,Bxf3', 'Bh7+,Nxh7,Qxa3', 'https://lichess.org/training/cSOVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cspmM', 'Rapid', 'Jayaramsethu', 1800, 'andrew61', 1769, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5c3,Be6,b3,Nf6,Bd3,Be7,O-O,O-O,Nd2,Nd4,h3,Rc8,Nf3,b5,Nxd4,exd4,Nd5,Bxd5,exd5,bxc4,bxc4,Ne8,Qa4,Bf6,Qxa6,Nc7,Qa4,Ra8,Qc6,Na6,Ba3,Be7,Rfe1,Nc5,Bxc5,dxc5,Re2,Bd6,a4,Rc8,Qb5,Qf6,Qb1,Rb8,Qe1,Rb3,Qd1,Rfb8,Rea2,Qf4,g3,Qh6,h4,Qf6,a5,Rb2,Rxb2,Rxb2,Bc2', 'd3,Qxd3,Rxc2,Qxc2,Qxa1+', 'https://lichess.org/training/cspmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSR4W', 'Rapid', 'Stefcik', 2170, 'ilya408', 2148, 'c4,d5,g3,dxc4,Qa4+,c6,Qxc4,Nf6,Nf3,Nbd7,Bg2,Nb6,Qc2,e6,O-O,Be7,Nc3,O-O,d3,Nbd5,Rd1,Qc7,a3,Rb8,b4,a5,b5,cxb5,Bb2,b4,axb4,axb4,Nxd5,Qxc2,Nxe7+,Kh8,Bxf6,gxf6,Nxc8,Rbxc8,Nd4,Qc3,e3,b6,Nb5,Qc5,Nd4,Kg7,Ra7,Rc7,Raa1,e5,Nf5+,Kg6,Be4,Kg5,h4+,Kh5,f3,b3,g4+,Kg6,Rab1,Qc3,Kg2,b2,Nd6+,Kg7,Nc4,b5,Nxb2,b4,Nc4,Qc2+,Kg3,b3,Rdc1,Qa2,Rb2,Qa4,Rc3,Rb8,Nb6,Qa7,Rcxb3,Qa1,Rb1,Qa5,Rb5,Qd2,Nc4,Rxc4,dxc4,Rxb5', 'cxb5,Qxe3,b6', 'https://lichess.org/training/CSR4W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('csrOq', 'Blitz', 'CM Terminator2018', 2101, 'Wunderkind009', 1940, 'd4,d5,c4,Nf6,Nc3,g6,Bg5,c6,Bxf6,exf6,cxd5,cxd5,e3,Bg7,Nf3,O-O,Qb3,Nc6,Qxd5,Be6,Qxd8,Raxd8,O-O-O,f5,d5,Bxc3,dxe6', 'Bxb2+,Kxb2,Rxd1', 'https://lichess.org/training/csrOq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('csv7P', 'Rapid', 'Onyx3B', 1651, 'master15581', 1613, 'c4,e5,g3,d5,d3,Nf6,Bg2,dxc4,Nc3,Bb4', 'Qa4+,Nc6,Bxc6+', 'https://lichess.org/training/csv7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('csVAb', 'Rapid', 'Filbertho27', 1801, 'onepunchman95', 1822, 'd4,d5,Bf4,e6,Nf3,c5,e3,Nc6,c3,cxd4,exd4,Bd6,Bg3,Nf6,Bb5,a6,Bxc6+,bxc6,Nbd2,Bxg3,hxg3,Qd6,Qc2,c5,dxc5,Qxc5,O-O,O-O,Nb3,Qd6,Kh2,Bb7,Rh1,h6,Kg1,e5,Re1,e4,Nfd4,Rfe8,Qd2,Ng4,Nf5,Qe6,Ne3,Ne5,Nc5,Qc6,Nxb7,Qxb7,Re2,Nd3,Nf5,Qb6,Qe3,Qxe3,Nxe3,Red8,Nf5,Rab8,b3,Re8,Ne3,Re5,Ng4,Rg5,Ne3,Rc8,Rc2,Rd8,Rh4,Rd6,c4,d4,Nd5,e3,fxe3,dxe3,Rd4,Rxg3,Ne7+,Kf8,Rxd6,Ne1,Re2,Kxe7,Rd4', 'Nf3+,Kh1,Nxd4', 'https://lichess.org/training/csVAb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSwTK', 'Rapid', 'Terbas3_14', 1690, 'Grim_Reaper', 1722, 'Nf3,d5,d4,Nf6,h3,Nc6,c3,e6,Nbd2,Be7,Ne5,Nxe5,dxe5,Nd7,Nf3,c6,g3,Qc7,Bg2,Nxe5,Nxe5,Qxe5,Qd4,Qxd4,cxd4,Bb4+,Bd2,Bxd2+,Kxd2,O-O,Rac1,Bd7,Kc2,b5,Kd2,a5,h4,f5,e3,b4,a4,bxa3,bxa3,Rab8,Rb1,Rfc8,Bf3,Kf7,Be2,Rxb1,Rxb1,Rc7,Kc3,c5,dxc5,Rxc5+,Kd3,Bb5+', 'Kd4,Rc2,Bxb5', 'https://lichess.org/training/CSwTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('csY0t', 'Rapid', 'rubensmelo', 1660, 'jmancook54', 1633, 'e4,b6,a3,Bb7,Nc3,e6,Bc4,Nf6,d3,d5,exd5,Nxd5,Nf3,Bd6,O-O,O-O,Ba2,Qf6,Ne4,Qg6', 'Nh4,Qxe4,dxe4', 'https://lichess.org/training/csY0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cSyp3', 'Rapid', 'Mhaler', 1939, 'Toughnut1', 1945, 'e4,e6,c4,d5,e5,c5,Nf3,Nc6,Nc3,Nh6,d4,cxd4,Bxh6,dxc3,Bc1,cxb2,Bxb2,Bb4+,Nd2,Qb6,a3,Bc5,Qb3,Bxf2+,Kd1,Qc7,Qf3,Bc5,Qg3,O-O,Bd3,dxc4,Nxc4,Rd8,Nd6,Bxd6', 'exd6,e5,dxc7', 'https://lichess.org/training/cSyp3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CSZ2B', 'Rapid', 'lep_ampe', 1945, 'Youpadreeeeeeee', 1523, 'd4,d5,c4,dxc4,e4,b5,a4,bxa4,Bxc4,Nd7,Qxa4,c6,Qxc6,Rb8,Rxa7,Nf6,e5,Rb6,Qa4,Ne4,f3,Nd6,exd6,Rxd6,Ne2,e5,dxe5,Rb6,Nbc3,Bc5,Ne4,Bb4+,Bd2,Bxd2+,Nxd2,O-O,O-O,Nxe5,Ne4,Rxb2,N2g3,Nxc4', 'Qxc4,Qb6+,Qc5,Qxc5+,Nxc5', 'https://lichess.org/training/CSZ2B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ct0Oe', 'Rapid', 'FarookChess', 1934, 'sam_chess8', 1952, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Ne5,Nd7,Nxg6,hxg6,d4,Ngf6,c3,e6,Bg5,Bd6,Qd2,Qc7,O-O-O,a5,a3,b5,Bd3,b4,a4,bxc3,bxc3,Ba3+,Kc2,Rb8,Rb1,O-O,Bxf6,Nxf6,Ne4,Rxb1,Rxb1,Rb8,Rxb8+,Qxb8,Nxf6+,gxf6,g3,Qb2+,Kd1,Qa1+,Ke2,Qg1,Qh6,Bf8,Qh3,Qa1,Kd2,Qxa4,Qh4,Kg7,Qe4,Be7,Bc2,Qb5,h4,a4,h5,f5,Qe5+,Bf6', 'h6+,Kxh6,Qxf6', 'https://lichess.org/training/ct0Oe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ct0vr', 'Classical', 'ArminBabic', 1783, 'NoaSmeaheia', 1775, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Nf6,e5,Ng8,c3,g6,d4,b6,Be3,d5,Bb5,Bd7,Qa4,Nge7,Bg5,Qc8,Bf6,Rg8,Ng5,h6,Nh7,a6,Bxc6,Bxc6,Qc2,cxd4,cxd4,Bb5,Rc1,Qxc2,Rxc2,Nf5,Na3,Nxd4,Rc7,Bd7,Bh4,g5', 'Nf6+,Kd8,Rxd7+', 'https://lichess.org/training/Ct0vr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CT3Fq', 'Classical', 'gladiantuns', 1624, 'nabuhodonozor', 1798, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Be3,Bxe3,fxe3,d5,exd5,Nxd5,Bxd5,Qxd5,O-O,Bg4,Nc3,Qc5,Qd2,O-O-O,d4,exd4,Na4,dxe3', 'Qxd8+,Rxd8,Nxc5', 'https://lichess.org/training/CT3Fq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CT5Dk', 'Rapid', 'Aleksandr_krd', 1662, 'Whutt', 1622, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Nc6,Bc4,Nb6,Bxf7+,Kxf7,Ng5+,Kg8,Qf3,Qe8,e6,h6', 'Qf7+,Qxf7,exf7#', 'https://lichess.org/training/CT5Dk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ct5SR', 'Blitz', 'hammaddar93', 2015, 'RMA007', 2074, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nf3,Nc6,d4,Bg4,Nxd5,Qxd5,c3,e6,Be2,Bd6,O-O,Qh5,h3,Bxh3,gxh3,Qxh3,d5,Ne5,Nxe5,Bxe5,f4,Bd6,dxe6,Bc5+,Rf2,Qg3+,Kh1,Qxf2', 'Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/ct5SR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ct9EI', 'Blitz', 'trawetz03', 2194, 'IM MeneerMandje', 2461, 'Nf3,f5,d4,Nf6,Bg5,Ne4,Bf4,g6,e3,Bg7,Bd3,d6,O-O,Nc6,Bxe4,fxe4,Nfd2,e5,dxe5,Nxe5,Nxe4,O-O,Nbc3,Kh8,h3,b6,Qd5,Rb8,Rad1,Bb7,Qd2,Nc4,Qc1,Nxb2,Qxb2,Bxe4,Qb4,Bb7,Nb5,a6,Nxc7,Qxc7,Qxd6,Qf7,Qxb6,Rbc8,Rd2,Ba8,Rfd1,Qxa2,Rd7,Qxc2,Qa7,Qc6,f3,Qf6,R1d6,Qa1+,Kh2,Rc1,Rxg7,Rh1+,Kg3,Qxg7,Rd7,Qf6,Rxh7+,Kg8,Re7,g5,Be5,Rxh3+,Kxh3', 'Qh6+,Kg3,Qh4#', 'https://lichess.org/training/ct9EI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTarf', 'Rapid', 'angler68', 1773, 'LuckyCent', 1779, 'f4,c5,e4,d6,d3,Nc6,h3,e6,Nf3,Nf6,g3,Be7,Bg2,O-O,O-O,Qb6,c3,c4+,Kh2,d5,e5,Nd7,d4,f6,Re1,fxe5,fxe5,Rf7,Rf1,Nf8,Bg5,Bxg5,Nxg5,Rxf1,Qxf1,Qc7,Nd2,h6,Ngf3,Ne7,Nh4,Nf5,Nxf5,exf5,Nf3,Qb6,Rb1,Be6,Nh4,Nh7,Nxf5,Rf8,Ne7+,Kh8,Qxf8+,Nxf8,Rf1,Qd8', 'Rxf8+,Qxf8,Ng6+,Kg8,Nxf8', 'https://lichess.org/training/cTarf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctB6E', 'Rapid', 'ivanshugaylov', 1992, 'davoglio007', 1892, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,h6,Bxc6,dxc6,Nxe5,Bd6,Nf3,O-O,Be3,Bg4,Nc3,Nh7,Qd2,b5,h3,Bh5,g4,Bg6,O-O-O,b4,Ne2,a5,h4,f6,h5,Bf7,Kb1,a4,Nh4,b3,a3,bxc2+,Kxc2,Bb3+,Kb1,Bxd1,Rxd1,Rb8,Ka1,Be5,d4,Bd6,Ng6,Rf7,Qc3,Rb6,Qc4,Qb8,Bc1,Bxa3,Rd2,Bb4,Rc2,a3,Nh8,axb2+,Bxb2,Kxh8,Qxf7,Ng5,Qc4,Nxe4,Qf7,Qa7+,Kb1,Ba3,Nf4,Qa4,Qe8+,Kh7,Qxe4+,Kg8,Ng6,Bxb2,Rxb2,Qd1+,Ka2,Qa4+,Kb1', 'Qd1+,Ka2,Ra6#', 'https://lichess.org/training/ctB6E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctBm7', 'Rapid', 'isin78', 2002, 'looserRP13', 2088, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,Nc6,Be3,Nxd4,Bxd4,e5,Be3,Be7,Qd2,O-O,O-O-O,b5,g4,b4,Nd5,a5,Nxe7+,Qxe7,Qxd6,Qb7,Qxe5,Be6,Kb1,a4,Qb5,Bxa2+,Kxa2,b3+,Kb1,bxc2+,Kxc2,Rfc8+,Kb1,Qe7,g5,Nxe4,fxe4,Qxe4+,Qd3,Qxh1,Bh3,Qb7,Bxc8,Qxc8,Qa3,Qg4,Rg1,Qe2,h4,Re8,Bd4', 'Qe4+,Ka1,Qxd4', 'https://lichess.org/training/ctBm7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctcWJ', 'Blitz', 'FM macko06', 2402, 'FM Fluke180', 2370, 'd4,c6,Nf3,d5,Bf4,Nf6,e3,Nbd7,c4,g6,Nc3,a6,h3,Bg7,Bd3,O-O,O-O,dxc4,Bxc4,b5,Bb3,Bb7,Qe2,a5,Rfd1,Qb6,Ne5,Rad8,a4,b4,Nc4,Qa6,Nb1,c5,Nbd2,Nd5,Nf3,Nxf4,exf4,cxd4,Qxe7,Bf6,Qd6,Qa8,Nb6,Nxb6,Qxf6,Bxf3,gxf3,Qxf3', 'Bxf7+,Rxf7,Qxd8+', 'https://lichess.org/training/ctcWJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTDgZ', 'Classical', 'EmilyRose13', 1719, 'cpan1185', 1742, 'e4,e5,Nf3,d6,Bc4,Nc6,d4,Bg4,dxe5,Nxe5,Be2,Bxf3,Bxf3,Be7,O-O,Bf6,Nc3,Ne7,Bg4,O-O,f4,Nxg4,Qxg4,Bd4+,Kh1,Bxc3,bxc3,Nc6,Bb2,Re8,c4,g6,f5,Ne5,Bxe5,dxe5,f6,Qd4,Qh4,Re6,Rad1,Qxc4', 'Qh6,Rxf6,Rxf6', 'https://lichess.org/training/cTDgZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTdKW', 'Rapid', 'Proplayer21', 1955, 'hazemtaher', 1948, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Bg4,O-O,Nd4,fxe5,Nxf3+,gxf3,Bh3,Rf2,Qg5+,Kh1,dxe5,d4,Qf6,dxe5,Qxe5,Nc3,Bc5,Rd2,Be3,Rd5,Qf4,Bxe3,Qxe3,Nb5,Rc8,Nxc7+,Rxc7', 'Rd8+,Ke7,Qd6#', 'https://lichess.org/training/cTdKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CtdW6', 'Classical', 'Polgar', 1824, 'hectorsanchez3jaques', 1655, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Bc5,Bc4,Qh4,Bxf7+,Kd8,Qe2,Ne7,Nf3,Qf6,Bb3,h6,O-O,a6,Be3,Bxe3,fxe3,Nbc6,Nd4,Qg5,Rad1,d6,Ne6+,Bxe6,Bxe6,Ne5,Nd5,Nxd5,Rxd5,Ke7,Bh3,Rhf8,Rf5,Qh4,Rd1,Qxe4,Rdf1,Rf6,Rxf6,gxf6,Qf2,Rf8,Qg3,Kf7,Bf5,Qb4,Qf2,Ke7,b3,Ng4,Qe2,Ne5,Qh5,Nf7,Qf3,Qb6,Qe4+,Ne5,Kh1,Qc6,Qd3,Rg8,Qe2,Qc3,e4,Qd3,Qf2,Ng4,Bxg4,Rxg4,Qxf6+,Kd7,Qf5+,Kc6', 'Rc1+,Kb6,Qxg4', 'https://lichess.org/training/CtdW6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTEEN', 'Rapid', 'nofoodinfridge', 1822, 'Ranjankumar1980', 1822, 'd4,Nf6,c4,d5,Nf3,c6,Nc3,e6,e3,Bd6,Be2,O-O,Qc2,Nbd7,c5,Be7,b4,b6,a4,bxc5,bxc5,Qc7,Bd3,e5,e4,exd4,Nxd4,Bxc5,Nf3,Re8,O-O,d4,Ne2,Ng4,h3,Nge5,Nfxd4,Nxd3,Qxd3,Nf6,Qc4,Rxe4,Qxc5,Bb7,Be3,Rae8,Qxa7,c5,Nb5,Qc6,Nf4,Rxf4,f3,Rxe3,Rfe1,Rxe1+,Rxe1,h6', 'Qb8+,Bc8,Qxf4', 'https://lichess.org/training/cTEEN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CTejo', 'Blitz', 'Zepinga', 1946, 'CM Remulo1Alpha0', 2060, 'e4,c5,Nf3,Nc6,c3,e5,Be2,Qc7,O-O,d6,d4,Bg4,d5,Nce7,Nfd2,Bxe2,Qxe2,a6,f4,Ng6,fxe5,Nxe5,Nf3,Nxf3+,Qxf3,Nf6,Bg5,Be7,Nd2,h6,Bh4,g5,Bg3,O-O-O,b4,Rhf8,bxc5,Qxc5+,Kh1,h5,Qf5+,Kb8,e5,Ng4,Nb3,Qxc3,exd6,Bxd6,Bxd6+,Rxd6,Qxg5,Rg6,Qf4+,Ka8,Rac1,Qb2,Nc5,Ne3,Qf2,Rxg2,Qxb2,Rxb2,Nd7,Rg8,Rg1,Rd8,Rc7,Ng4,Rf1,Rxh2+,Kg1,Rxa2,Rxf7,Rg8', 'Nb6+,Ka7,Rxb7#', 'https://lichess.org/training/CTejo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTGcs', 'Blitz', 'ndhon', 2621, 'FM LubosRosko', 2412, 'd4,Nf6,e3,d5,Bd3,c5,c3,Nc6,f4,Bg4,Nf3,e6,O-O,Bd6,Nbd2,O-O,h3,Bf5,Qc2,Ne7,g4,Bxd3,Qxd3,g6,Ne5,Qc7,Rf3,Rac8,g5,Nh5,Nf1,Nf5,Bd2,Bxe5,dxe5,Rfd8,Be1,c4,Qe2,b5,Rd1,a5,Nh2,Qc5,Ng4,Kg7,Nh6,b4,Kh2,Rb8,Nxf5+,exf5,Rd4,Qc6,h4,Kg8,Rf2,Ng7,Qf3,Ne6,Rd1,Ng7,Rd4,bxc3,Bxc3,a4,a3,Rb5,Rc2,Rdb8,Bb4,Qb7,Rcd2,Ne6,h5,Nxd4,Rxd4,Rxb4,axb4,Qxb4,Qxd5,Qxb2+,Kg3,Qe2', 'Qd8+,Rxd8,Rxd8+,Kg7,h6#', 'https://lichess.org/training/cTGcs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CTgqh', 'Rapid', 'AstErioN734274', 1668, 'shoooooo', 1662, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nc3,Nf6,d3,Bb4,Bc4,c6,Nxe5,d5,Bb3,Nxb3,axb3,Qd6,Nf3,dxe4,dxe4,Qe6,O-O,Bxc3,bxc3,Nxe4,Re1,O-O,Qd3,f5,Ng5,Qd5,Nxe4,fxe4,Qxe4,Qc5,Bd2', 'Qxf2+,Kh1,Qxd2', 'https://lichess.org/training/CTgqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CTgWw', 'Blitz', 'kapfel', 2330, 'FM ljubisha', 2315, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,Bb4,Nxc6,bxc6,e5,Nd5,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,Qa5,Qd4,c5,Qe3,Bb7,f3,O-O,Bd3,Qxc3+,Kf2,Qd4,Rab1,Bd5,c4,Bc6,Rhd1,Qxe3+,Kxe3,Rab8,Be4,Bxe4,Kxe4,Rb4', 'Rxb4,cxb4,Rxd7', 'https://lichess.org/training/CTgWw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CthPd', 'Classical', 'noblespud', 1844, 'bishoprookie', 1813, 'd4,Nf6,c4,c5,d5,b5,b3,a6,Nf3,d6,Nc3,Bd7,Bb2,Qa5,Qc2,g6,e3,Bg7,Be2,bxc4,Bxc4,Bf5,Bd3,Bxd3,Qxd3,Nxd5,Rc1,Nb4,Qe4,d5,Qf4,Nxa2,O-O,Nxc3,Bxc3,Bxc3,Ng5,O-O,Qh4,h5,g4,Bf6,gxh5,Bxg5,Qxg5,Qb6,Kh1,Qf6,Qh6,Nc6,Rg1,Rab8', 'hxg6,fxg6,Rxg6+', 'https://lichess.org/training/CthPd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cthRX', 'Rapid', 'mostapha28', 1816, 'arthurBR7', 1850, 'd4,d5,e3,Nf6,c4,c6,cxd5,Nxd5,Nf3,Bg4,Be2,f5,O-O,e6,Ne5,Bxe2,Qxe2,Qf6,Nc3,Bd6,Nxd5,exd5,Nd3,O-O,Qc2,f4,Nxf4,Bxf4,exf4,Qxd4,Rd1,Qb6,Be3,Qc7,Rd3,Nd7,Rb3,b6,Rc3,c5,b4,d4,Bxd4,Rxf4,Be3,Rxb4,a3,Rg4,Rd1,Nf6,f3,Rg6,Rc4,Rd8,Bf4,Rxd1+,Qxd1,Qf7,Qd8+,Qf8,Qc7,Qf7,Qb8+,Ne8,Re4,Re6,Rxe6,Qxe6,Kf2,Qa2+,Kg3,Qf7,h3,c4,Qc8,h6,Kf2,g5,Bc1,Kg7,Bb2+,Kf8,Qc6,Kg8,Qe4,Nf6,Qd4,Nd5', 'Qh8#', 'https://lichess.org/training/cthRX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CTiUQ', 'Rapid', 'Shivanshu1', 2174, 'AnArAzAd', 2128, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Qe2,Nxc4,Qxc4,Nxd5,d3,Be6,Nxe6,fxe6,O-O,Bd6,Nc3,c6,d4,exd4,Qxd4,Qf6,Qd1,O-O-O,Nxd5,exd5,Qg4+,Kb8,Bg5,Qg6,c4,h6,c5,Bxc5', 'Bf4+,Bd6,Qxg6', 'https://lichess.org/training/CTiUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CTIyl', 'Rapid', 'bolk', 1761, 'MoKhalifakira_1995', 1772, 'c4,e6,d4,d5,c5,c6,Nc3,Nf6,a3,Be7,h3,O-O,Nf3,Nbd7,e3,b6,Bd3,bxc5,dxc5,Nxc5,Be2,Nce4,Nxe4,Nxe4,O-O,c5,Bb5,c4,Nd4,a6,Bc6,Rb8,Ba4,Bd7,Rb1,Bxa3,Bxd7,Qxd7,Nc2,Be7,Nd4,c3,Qc2,cxb2,Rxb2,Rxb2,Bxb2,Rc8,Qd3,a5,Ra1,Bb4,Nc2,Qd6,Nxb4,Qxb4,Ba3,Qc4,Qd1,a4,Rc1,Nc3,Qc2,Ne2+', 'Qxe2,Qxc1+,Bxc1,Rxc1+,Kh2', 'https://lichess.org/training/CTIyl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctjk4', 'Rapid', 'ThanosCarlsen', 1854, 'Dr_Shnayder', 1822, 'e4,c5,Nf3,e6,Be2,a6,d4,cxd4,Nxd4,Nc6,Bf4,Nf6,Nb3,Nxe4,Bf3,Bb4+', 'c3,Nxf2,Kxf2', 'https://lichess.org/training/ctjk4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctJNn', 'Rapid', 'anilrules123', 1844, 'Wayner500', 1819, 'd4,Nf6,Bf4,g6,e3,Bg7,Nd2,O-O,Bd3,d6,Ngf3,Nc6,Be2,Be6,Ng5,Bd5,c4,Bxg2,Rf1,h6,Rg1,hxg5,Bxg5,Bh3,Bxf6,Bxf6,Bg4,Bxg4,Qxg4,Qc8,Qg3,Kg7,h4,Rh8,Rh1,Qf5,O-O-O,Qh5,Nf3,e5,d5,Ne7,e4,c6,Kb1,cxd5,cxd5,a5,Ng5,a4,a3,b5,Qc3,Bxg5,hxg5,Qxg5,Qb4,Rxh1,Rxh1,Qg2,Rc1,Qxf2,Qxd6,Qf6,Qb4,Rb8,d6,Ng8,d7,Qd8,Qd6,Nf6,Rd1,Rb6,Qxe5,Re6,Qxb5,Nxe4,Qxa4,Rd6', 'Rxd6,Nxd6,Qd4+,f6,Qxd6', 'https://lichess.org/training/ctJNn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctJRL', 'Classical', 'honss1', 1866, 'toman50', 1877, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bc4,Ngf6,Bg5,e6,Nf3,Be7,Bxf6,Nxf6,Qd3,Qb6,O-O,O-O,Neg5,h6,Ne4,Nxe4,Qxe4,Bf6,Rad1,Qxb2,Ne5,c5,Bd3,g6,Nxg6,Qxd4', 'Ne7+,Kg7,Qh7#', 'https://lichess.org/training/ctJRL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ctk1H', 'Rapid', 'A_159', 1915, 'NimaBishop', 1984, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,e6,Bd3,Bxd3,Qxd3,Nf6,Bd2,Qb6,Bc3,Bd6,Ne5,Nbd7,Nc4,Qc7,Nxd6+,Qxd6,Ne4,Nxe4,Qxe4,Nf6,Qe5,Qxe5+,dxe5,Nd5,Bd2,O-O-O,O-O-O,Ne7,g4,Rd5,Bc3,Rhd8,Rxd5,Rxd5,Rd1,Rxd1+,Kxd1,Ng6,h5,Nf4,Kd2,Kd7,Ke3,Nd5+,Kd4,b6,b4,c5+,bxc5,bxc5+,Kc4,Kc6,Bd2,Nb6+,Kb3,Kd5,f4,Kd4,g5,Nd5,Ka4,Ke4,Kb5,Nxf4,Bxf4', 'Kxf4,gxh6,gxh6,Kxc5,Kxe5', 'https://lichess.org/training/Ctk1H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ctk8h', 'Rapid', 'shalabyyy', 1959, 'roberto_lepera', 1848, 'e4,c6,d4,d5,e5,Bf5,c4,e6,Nc3,c5,cxd5,exd5,dxc5,Bxc5,Qxd5,Qh4,Qxc5,Nc6,Bb5,Ne7,Nf3,Qg4,Bg5,f6,exf6,gxf6,Bxf6,O-O,Bc4+,Be6,Bxe6+,Qxe6+,Be5,b6,Qe3,Nf5,Qg5+,Kf7,Qh5+,Ke7,Qg5+,Kd7,O-O-O+,Kc8,Bg3,h6,Qf4,Rf7,Rhe1,Qg6,Re8+,Kb7,Rxa8,Kxa8,Rd8+,Kb7,Rd1,Nfd4,Qd6', 'Qc2#', 'https://lichess.org/training/Ctk8h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ctl57', 'Rapid', 'chessbenalla', 1918, 'JitzBlitz', 1901, 'c4,e6,Nc3,Nf6,Nf3,Nc6,d4,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,d5,cxd5,Qxd5,g3,Ne4,Bg2,Nxc3,bxc3,f5,O-O,f4,Qd3,Bd7,h4,fxg3,Ng5,Qf5,Be4,gxf2+,Kh1,Qg4,Bxh7+,Kh8,Nf3,Rxf3,exf3', 'Qh3#', 'https://lichess.org/training/Ctl57');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTMnI', 'Rapid', 'SouthernChessPlayer', 2393, 'williamws', 2171, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,a3,Nge7,Nbd2,Bg4,g3,Ng6,Bg2,a5,O-O,Be7,b3,O-O,Bb2,d3,h3,Bf5,e4,Be6,Re1,Bc5,Qb1,Qd7,Bc3,Bxh3,b4,axb4,axb4,Rxa1,Qxa1,Nxb4,e6,Bxe6,Bxg7,Nc2,Qf6,Be7,Qc3,Bb4,Qf6,Qd8,Rb1,c5,e5,Nd4,Nxd4,Qxd4,Bxf8,Kxf8,Nf3,Qd7,Ng5,Kg8,Ne4,d2,Rd1,Bxc4,Qg5,Kg7,Nf6,Qa4,Nh5+,Kg8,Bf3,Qa8,Qh6,Qf8', 'Nf6+,Kh8,Qxh7#', 'https://lichess.org/training/cTMnI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTNHO', 'Rapid', 'oafysgbk', 1688, 'kiko416', 1680, 'e4,c6,d4,d6,c4,e6,Nf3,Nd7,Be3,Be7,Bd3,Ngf6,O-O,O-O,Nc3,a5,a4,b6,b3,Ba6,Ng5,h6,Nf3,e5,d5,cxd5,Nxd5,Nxd5,cxd5,Bxd3,Qxd3,Nc5,Qc2,Rc8,Rac1,Nxa4', 'Qxc8,Qxc8,Rxc8,Rxc8,bxa4', 'https://lichess.org/training/cTNHO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctNtb', 'Rapid', 'jake778', 1963, 'fouadshadeed', 1693, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,b6,Bd3,Bg4,O-O,Ne8,e5,Nd7,Be4,Rb8,Qe2,Qc8,Be3,c5,dxc5,bxc5,Nd5,Qd8,h3,Bxf3,Bxf3,Nc7,Nxc7,Qxc7,exd6,exd6,Rab1,Rfe8,Qd3,Nf8,b3', 'Rxe3,Qxe3,Bd4,Qxd4,cxd4', 'https://lichess.org/training/ctNtb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTnX7', 'Blitz', 'FM Cellini', 2485, 'Hyrde', 2579, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,a6,Be2,Nc6,Be3,Bf5,a3,O-O-O,Qd2,e5,dxe5,Nxe5,Qxd6,Bxd6,O-O-O,h6,h3,Rhe8,Rhe1,Ng6,Bd3,Bxd3,Rxd3,Ne5,Nxe5,Bxe5,Red1,Rxd3,Rxd3,Bxc3,Rxc3,c6,Rd3,Nd5,Kd2,h5,Bd4,g6,Rf3,f5,c4,Nc7,Re3,Ne6,Bb6,Kd7,Rd3+,Ke7,Be3,f4,Bd4,g5,Be5,Rg8,Ke2,g4,hxg4,hxg4,Rd1,Rg5,Bd6+,Kf7,Rh1,Kg7,Kd3,b5,b3,a5,a4,bxa4,bxa4,Rf5,Ke4,Rf7,Rh4,Ng5+,Kd4,Kg6,Rxg4,Rd7,Kc5,Kf5,Rxf4+,Ke6,Kxc6,Rxd6+,Kc5,Rd1,Kb5,Ke5,g3,Ne6,Rf3', 'Nd4+,Kxa5,Nxf3', 'https://lichess.org/training/cTnX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cToeX', 'Blitz', 'FM scandalgod', 2434, 'fireemblem6', 2531, 'd4,g6,c4,Bg7,e4,d6,Nc3,Nf6,f4,O-O,Nf3,Na6,Bd3,e5,fxe5,dxe5,d5,Nc5,Bc2,Ne8,Be3,Qe7,O-O,a5,Qd2,b6,b3,Nd6,Rae1,Bd7,Bg5,f6,Bh6,a4,Bxg7,Kxg7,b4,Na6,b5,Nc5,Bd3,a3,Kh1,Na4,Nd1,Nb7,Bc2,Qc5,Ne3,Nb2,Qe2,Nd6,Rc1,Qb4,Nd2,Na4,Bb3,Nc5,Bc2,Qb2,Rb1,Qc3,Rfc1,Qa5,Nb3,Nxb3,Bxb3,Nb7,Rd1,Nc5,Bc2,Qc3,Rdc1,Qa5,Rf1,h5,h3,Rf7,Rbd1,Raf8,Bb1,Qb4,d6,cxd6,Rxd6', 'Nxe4,Bxe4,Qxd6', 'https://lichess.org/training/cToeX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CTOl3', 'Blitz', 'sergejnovikov7939', 1832, 'NITESH08', 1901, 'e4,e6,Bc4,d6,d3,a6,f4,h6,Nf3,Nd7,O-O,Ne7,Be3,b6,Nc3,Bb7,Qe2,g6,d4,Bg7,Bd3,d5,f5,dxe4,Bxe4,Bxe4,fxe6,Bxf3,exd7+,Qxd7,Qxf3,O-O,Rad1,Nf5,Ne2,Rae8,Bf2,Re7,c3,Rfe8,Ng3,Nxg3,Bxg3,Re3,Qf4,R8e4,Qxc7,Qb5,Rb1,Qd3,Qxf7+,Kh7,Be5,Rxe5,dxe5,Rxe5,Rfd1,Qe3+,Qf2,Qg5,Qxb6,Re2,Qc6,h5,Rd7', 'Qe3+,Kh1,Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/CTOl3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CtoRR', 'Classical', 'achja', 2139, 'lolopo38', 1721, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Qd3,Nf6,c4,g6,Nc3,Bg7,Bxc6,Bxc6,Nd4,Qb6,Be3,Qxb2,O-O,Ng4,Rfb1,Qa3,Rb3,Qa5,Rab1,Nxe3,fxe3,O-O,Nd5,Bxd5,exd5,Bxd4,exd4,b6', 'Ra3,Qxa3,Qxa3', 'https://lichess.org/training/CtoRR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTPBi', 'Rapid', 'Great_India', 1643, 'mrsp110', 1711, 'd4,g6,c4,Bg7,Nf3,e6,Bg5,Ne7,e4,f6,Bh4,h5,Nc3,g5,Bxg5,fxg5,Nxg5,Nec6,e5,Qxg5,Qd3,Qf5,Ne4,Bxe5,dxe5,Nxe5,Qd4,Rf8,Bd3,Ng4', 'Nd6+,cxd6,Bxf5', 'https://lichess.org/training/cTPBi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CtPFp', 'Rapid', 'adamessalih', 1880, 'Josephpaul1402', 1904, 'c4,e5,d3,Nf6,Nc3,Bb4,Qc2,O-O,g3,Nc6,Bg2,Nd4,Qd2,c6,e3,Ne6,a3,Bxc3,Qxc3,d6,Nf3,Ng4,O-O,f5,b4,Qf6,Bb2,Qh6,h3,Nf6,c5,Ng5,Nxg5,Qxg5,f4,exf4,exf4,Qxg3,Rae1,dxc5,bxc5,Bd7,Rf3,Qh4,Rfe3,Rae8,Qc4+,Nd5', 'Bxd5+,cxd5,Qxd5+', 'https://lichess.org/training/CtPFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CTpq3', 'Rapid', 'Rapidinho', 1851, 'chess011134', 1871, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,g3,Bf5,Bg2,c6,Nf3,Nbd7,Bg5,Bd6,O-O,h6,Bxf6,Nxf6,e3,Bb4,Rc1,O-O,h3,Qa5,a3,Bd6,g4,Bg6,Re1,Ne4,Nxe4,Bxe4,Nd2,Bxg2,Kxg2,Qb6,Qc2,Rfe8,Nf3,Rac8,b4,a5,bxa5,Qxa5,Ra1,Qa6,a4,Bb4,Reb1,Bd6,Qb3,Rc7,Nh4,g6,Qc2,Kg7,a5,Ra8,Qd2,Re8,Rb6,Qa7,Rab1,Rce7,Qb2,Qxa5', 'Ra1,Qxa1,Qxa1', 'https://lichess.org/training/CTpq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CTr14', 'Blitz', 'Der_Arbeiter_66', 1861, 'ENNO98', 1793, 'Nf3,d5,c4,c6,d4,Nf6,Nc3,g6,Bg5,Bg7,h3,O-O,e3,Nbd7,c5,Re8,Be2,e5,b4,e4,Nh2,Nf8,O-O,Bd7,Qd2,Qc8,f3,Nh5,Bh4,exf3,Bxf3,Bh6,Rae1,Ng7,Bf2,Nfe6,Qd3,Ng5,Bg4,Ne4,Nxe4,dxe4,Qc4,Be6,Bxe6,Qxe6,Qc2,f5,Bg3,Nh5,Be5,Bg7,Bd6,Bf8,Be5,Bg7,Bc7,Rac8,Bd6,Rcd8,Rf2,Rd7,g4,fxg4,Nxg4,Nf6,Ne5,Qxh3,Nxd7,Qxd7,Rg2,Ng4,Qe2,h5,Rf1,Bh6,Bf4,Bxf4,Rxf4,Rf8,Qc4+,Kg7,Rxe4,Qf5,Re7+,Kh6,Qe2', 'Qb1+,Qf1,Rxf1#', 'https://lichess.org/training/CTr14');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTRby', 'Rapid', 'pnk', 1828, 'MSSAAD', 1898, 'e4,Nc6,Bc4,f5,exf5,d5,Bd3,Nf6,Nf3,Nb4,O-O,Nxd3,cxd3,Bxf5,d4,Qd7,Nc3,e6,h3,O-O-O,Ne5,Qe8,d3,h5,f4,Bd6,Be3,Bxe5,fxe5,Nh7,Ne2,g5,Ng3,g4,Nxf5,exf5,Rxf5,gxh3,gxh3', 'Qg6+,Kh2,Qxf5', 'https://lichess.org/training/cTRby');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTrf4', 'Bullet', 'memeke', 1652, 'espositor', 1635, 'e4,e6,Nc3,c5,b3,a6,Bb2,Nc6,Nf3,Be7,d4,cxd4,Nxd4,Nxd4,Qxd4,Bf6,e5,Be7,f4,Nh6,Bd3,Nf5,Qf2,Bh4,g3,Be7,O-O-O,b6,g4,Bc5,Qg2,Ne3,Qe2,Nxd1,Nxd1,Bb7,Rf1,Qc7,f5,exf5,gxf5,O-O-O,Nc3,Rhe8,Na4,Bd5,Nxc5,Qxc5,Bxa6+,Kb8,e6,dxe6,Be5+,Ka7,Bb5,Re7,Rf4,Bc6,Ra4+,Kb7,Ba6+,Ka8,Bc8+,Bxa4', 'Qa6+,Ra7,Bb7#', 'https://lichess.org/training/cTrf4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CtrMD', 'Rapid', 'Tmat01952', 2099, 'irfan_ansari', 2057, 'd4,d5,Nf3,e6,c4,Nf6,Nc3,Be7,Bf4,a6,e3,O-O,Qc2,dxc4,Bxc4,b5,Bd3,Bb7,e4,h6,a3,Nc6,O-O,Nxd4,Nxd4,Qxd4,Rfd1,Qb6,b4,Rac8,Be3,Qc6,Rac1,Qe8,e5,Nd5,Nxd5,Bxd5,Qe2,f5,exf6,Rxf6,Bd4,Rf8,Qg4,Bf6,Bc5,Be7,Bd4,Qf7', 'Bg6,Bg5,Bxf7+', 'https://lichess.org/training/CtrMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CtrQq', 'Rapid', 'Svenjamin420', 1828, 'ReNyolan', 1891, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nxc6,bxc6,b3,Nf6,Be3,Qb4+,Nd2,Nxe4,Bc4,d5,Bd3,Nc3,a3,Qd6,Qf3,e5,Bf5,e4,Qg4,Ba6,Bf4,Qf6', 'Bd7+,Kd8,Bg5,Qxg5,Qxg5+', 'https://lichess.org/training/CtrQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctS9Y', 'Rapid', 'FadilaFaiz', 1682, 'gaby6205', 1683, 'd4,d6,c4,Bf5,Nc3,Nf6,f3,e6,e4,Bg6,Bd3,Nc6,Be3,Be7,Nge2,O-O,O-O,Qd7,Qc2,Nb4,Qb1,Nxd3,Qxd3,Rad8,Nf4,e5,Nxg6,fxg6,Nd5,Nxd5,exd5,exd4,Bxd4,Bf6,Rae1,Bxd4+,Qxd4,Rf5,Re6,c6,Rfe1,cxd5', 'Re7,Qxe7,Rxe7', 'https://lichess.org/training/ctS9Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTsPi', 'Rapid', 'av0cat', 1892, 'Grivun', 2084, 'd4,Nf6,Nf3,d6,Bf4,g6,e3,Bg7,Bd3,O-O,c3,c5,Nbd2,cxd4,exd4,Nbd7,O-O,Re8,Re1,Nh5,Bg3,Nxg3,hxg3,e5,dxe5,Nxe5,Nxe5,dxe5,Bc4,Qc7,Qb3,Be6,Bxe6,Rxe6,Ne4,h6,Rad1,Rae8,f3,Qb6+,Qxb6,Rxb6,b3,f5,Nc5,Rc6,Nxb7,Rxc3,Re2,e4,fxe4,Rxe4,Rde1,Rxe2,Rxe2,Rxg3,Re8+,Kf7,Ra8,f4,Nd6+,Kf6', 'Ne4+,Kf5,Nxg3+', 'https://lichess.org/training/cTsPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTTQf', 'Rapid', 'FarmerBillyBob', 1801, 'Matt971', 1897, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,Nge7,Bg5,h6,Bh4,g5,Bg3,a6,Bd6,b5,Bb3,Bg7,O-O,Na5,Qe2,Nb7,e5,Nxd6,exd6,Nf5,Rfd1,O-O,g4,Nh4,Nxh4,gxh4,Qe3,Qg5,Qf3,Rb8,Ne4,Bb7', 'Nxg5,Bxf3,Nxf3,Bxb2,Rab1', 'https://lichess.org/training/cTTQf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTuek', 'Blitz', 'INDJENDJET', 1765, 'jare4', 1814, 'e3,e5,a3,Nf6,b4,d5,Bb2,Bd6,Nc3,c6,b5,Qb6,a4,Bd7,Rb1,Qc7,Ba1,O-O,h3,d4,exd4,exd4,Nce2,Re8,Nf3,c5,g4,a6,b6,Qc6,a5,Qxf3,Rg1,d3,cxd3,Qxd3,Rb3,Qc4,Rc3,Qb5,g5,Nd5,Rb3,Qxa5,g6,Nf4,gxf7+,Kxf7,Rxg7+,Kf8,Rf3,Bc6,Qb1,Be4,Qb2,Be5,Rxf4+,Kxg7,Rg4+,Kh8', 'Qxe5+,Rxe5,Bxe5#', 'https://lichess.org/training/cTuek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CtUH1', 'Blitz', 'smhs', 2015, 'Dinic_94', 1810, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,h6,Nc3,Nf6,Re1,Be7,Bf4,O-O,Nxc6,Bxc6,Bc4,a6,a4,Rb8,Bb3,b6,Qd3,Re8,Qc4,Bb7,Qxf7+,Kh8,Re3,Rf8,Qg6,Nd7,Rh3,Rxf4', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/CtUH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CTVtY', 'Rapid', 'ikma', 1839, 'Guique66', 1739, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qc3,e6,exf6,Bb4,Qxb4,Nxb4,Na3,Qxf6,Be2,O-O,O-O,d5,c3,Nc6,Nb5,Qd8,Bf4,Bd7,Bd6,Ne7,Nbd4,Bc6,Ba3,Re8,Ne5,Qc7,f4,Nf5,Nb5,Bxb5,Bxb5,Ne3,Bxe8,Nxf1,Bxf7+,Kg7,Rxf1,g5,Bxe6', 'Qb6+,Rf2,Qxe6', 'https://lichess.org/training/CTVtY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cTWDR', 'Rapid', 'ronengrin', 1834, 'Hinder31', 1828, 'e3,e5,d4,Nc6,d5,Nce7,e4,Ng6,Nf3,Nf6,Bd3,Bc5,Bg5,O-O,O-O,d6,h3,Nf4,Bxf4,exf4,a3,Nh5,Kh2,Qf6,Nc3,Re8,Na4,Bd4,c3,Be5,Nxe5,Qxe5,c4,Bd7,Nc3,Nf6,f3,Qg5,Ne2,Nh5,Qe1,Qg6,Rd1,Re5,b4,Rg5,Rg1,Re8,e5,Qh6,exd6,cxd6,Qf2,Bf5,Bxf5,Rxf5,Rde1,b6,Qh4,Rfe5,Qf2,Qg6,Nd4,Qd3,Rxe5,Rxe5,Nc6,Re2,Qh4,Nf6,Qxf4,Qxa3,Qxd6,h6,Qd8+,Kh7,Qf8,Qxf3,Ne7,h5,c5,Ne4,Qg8+,Kh6,Qh8+,Kg5,Qxg7+,Kf4,Qh6+,Ke5,Nc6+,Kxd5,Nxa7', 'Qg3+,Kh1,Nf2#', 'https://lichess.org/training/cTWDR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctwjc', 'Rapid', 'epifanioclaudioluiz', 1604, 'vertlib_g', 1746, 'c4,e5,d3,Nf6,Nf3,Nc6,g3,h6,Bg2,Bc5,O-O,d5,cxd5,Nxd5,Nc3,Nxc3,bxc3,O-O,a4,b6,Ba3,Bxa3,Rxa3,Bb7,Ra1,Re8,Re1,e4,Nh4,g5,Nf5,Qf6,Bxe4,Na5,Bxb7,Nxb7,e4,Qxc3,Nxh6+,Kh7,Nf5,Nc5,Qh5+,Kg8,Qxg5+,Kf8,Qh6+,Kg8,Qe3,Nxd3,Red1,Rad8,Rac1,Nxc1,Qxc3', 'Ne2+,Kg2,Nxc3,Rxd8,Rxd8', 'https://lichess.org/training/ctwjc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CTXIp', 'Blitz', 'luckydrunk', 1668, 'dorostorum', 1692, 'e4,e5,g3,Nf6,Bg2,d6,Nc3,c6,d4,Be7,Nge2,O-O,O-O,Bd7,f4,exd4,Nxd4,Qc8,f5,Na6,Bf4,Nc7,e5,dxe5,Bxe5,Re8,Rf4,c5,Nf3,Nh5,Rg4,Nf6,Rh4,Bc6,Ng5,h6,Bxc6,bxc6,Bxf6,Bxf6,Nce4,Qd8,Qh5,Rxe4', 'Qxf7+,Kh8,Rxh6+,gxh6,Qh7#', 'https://lichess.org/training/CTXIp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctYdg', 'Rapid', 'zack2021', 1895, 'robkalkman', 2031, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,Bg4,Be2,Nc6,Be3,O-O-O,O-O,Bxf3,Bxf3,Nxd4,Bxd4,Qxd4,Qe2,Qb6,b4,e6,b5,Bb4,Na4,Qa5,Nb2,Rd2,Qc4,Bc3,Nd3,Bxa1,Rxa1,Rd8,Nc5,Nd5,Nb3,Qc3,Nxd2,Qxa1+,Nf1,Nc3,a4,Nxa4,Qe4,Nc5,Qc4,b6,h3,Rd4,Qe2,Qc1,Qe5,Ra4,Qxg7,Ra1', 'Qf8+,Kd7,Bc6#', 'https://lichess.org/training/ctYdg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctYGr', 'Rapid', 'kindza', 1838, 'Zov_Ovoshey', 1808, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,d6,h3,Nf6,Nc3,e6,Nf3,Be7,Bd3,O-O,a3,a6,O-O,b5,b4,Qc7,Bb2,Rd8,Rb1,Bb7,Nh2,Rac8,Ng4,Ne5,f4,Nexg4,hxg4,e5,g5,Nd7,f5,Bxg5,Qh5,Be3+,Kh1,Nf6,Qh4,Bd4,Nd5,Bxd5,exd5,Bxb2,Rxb2,Qc3,Rbb1,Qxa3,Rf3,h6,Rg3,Kh7,Rh3,Qa2,Rf1,Qxd5,Rff3,e4,Rfg3,Qxf5,Rxg7+,Kxg7', 'Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/ctYGr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ctynR', 'Rapid', 'nuti', 2014, 'Kaagitanbesao', 1953, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Be2,Ngxe5,Nxe5,Nxe5,O-O,O-O,Nc3,d6,a3,a6,b4,Ba7,Bb2,c6,Ne4,Bb8,Qd2,Be6,Rac1,Qe7,Rfd1,d5,cxd5,Bxd5,Ng3,Qh4,Qc3,f6,Rd4,Qg5,f4,Qh6,fxe5,fxe5,Rg4,Ba7,Qxe5', 'Bxe3+,Qxe3,Qxe3+', 'https://lichess.org/training/ctynR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CTYur', 'Rapid', 'HMSMungo', 1940, 'StoicREH', 1966, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f4,exf4,Bxf4,Be7,Bd3,Nbd7,h3,Ne5,Bxe5,dxe5,Qf3,O-O,O-O-O,Qc7,Nd5,Bxd5,exd5,Bd6,Qf5,Rac8,Kb1,Rfe8,c4,e4,Bc2,Qxc4,Nd4,Be5,Bb3,Qb4,Nc2,Qb6,g4,a5,g5,a4,gxf6,axb3,axb3,Qxb3,Nd4,Rc2', 'Nxb3,Rxb2+,Kc1', 'https://lichess.org/training/CTYur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cu0cG', 'Blitz', 'daxijo', 1922, 'LucidChess', 1941, 'g4,d5,Bg2,c6,h3,e5,Nf3,Bd6,d3,Nf6,Bg5,Nbd7,O-O,O-O,Qd2,Re8,e4,a5,a3,a4,Nc3,Qc7,Rae1,b6,Ne2,dxe4,Nh4,exd3,cxd3,Ba6,Rc1,Nc5,Ng3,Nd5,Ngf5,Nb3,Qc2,Nxc1,Rxc1,Bc5,Re1,h6,Bxh6,gxh6,Nxh6+,Kf8,Qe2,Nf4,Qe4,Nxd3,Re2,Rad8,Qh7,Ke7', 'Qxf7+,Kd6,N4f5#', 'https://lichess.org/training/cu0cG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cu1mb', 'Blitz', 'semenparovoz', 2250, 'hhmm52', 2189, 'd4,Nf6,Bf4,g6,Nf3,Bg7,e3,O-O,Be2,d6,O-O,Nbd7,h3,Re8,c4,h6,Nc3,e5,dxe5,dxe5,Nxe5,Nxe5,Qxd8,Rxd8,Bxe5,c6,Rfd1,Be6,b3,Nd7,Bxg7,Kxg7,Rd6,Nf6,Rad1,Rxd6,Rxd6,Kf8,Bf3,Ke7,Rd1,Rd8,Rxd8,Kxd8,Na4,Kc7,Nc5,Bf5,e4,Bc8,Nd3,Nd7,Bg4,f6,Bxd7,Bxd7,f4,b6,Kf2,c5,Ke3,Bc6,g3,Kd6,e5+,Ke6,exf6,Kxf6,Ne5,Be8,Ng4+,Kg7,Ke4,h5,Ne3,Bc6+,Ke5,Kf7,Kd6,Be4,g4,Bb1,a3,Ba2,b4,cxb4,axb4,a5,bxa5,bxa5,c5,a4,Nd5,Bxd5,Kxd5,a3,c6,a2,c7,a1=Q,c8=Q,Qd1+,Ke4,Qh1+,Ke3,Qe1+,Kf3,Qh1+,Kg3,h4+,Kxh4', 'Qe1+,Kg5,Qe7+,Kh6,Qh4#', 'https://lichess.org/training/Cu1mb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cu1s4', 'Rapid', 'Bastaiber', 1957, 'fjsully3', 1649, 'e4,c5,Nf3,Nc6,Bb5,Qc7,Nc3,e6,O-O,Bd6,Re1,Ne5,h3,a6,Be2,Nf6,d4,cxd4,Qxd4,b5,Bg5,h6,Bxf6,gxf6,Rad1,Ke7,a3,Bc5,Qd2,Bb7,b4,Bb6,Nxe5,fxe5,Rf1,Bd4,Nb1,Rac8,Bd3,Rcg8,Qe2,h5,Kh2,Qd8,Nd2,Kf8,Nf3,Qf6,Rc1,d5,c3,Bb6,Rcd1,Rg7,Rg1,Qh6,exd5,Bxd5,Be4', 'Qf4+,g3,Qxe4,Qxe4,Bxe4', 'https://lichess.org/training/Cu1s4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cU4xk', 'Rapid', 'OnMargateSands', 2146, 'tricatok', 2308, 'e4,e5,Nf3,Nc6,d4,Qf6,Bc4,h6,O-O,d6,h3,g5,Nc3,Nge7,Nb5,Kd8,dxe5,Nxe5,Nxe5,Qxe5,Qd3,a6,f4,gxf4,Bxf4,Qc5+,Nd4,Ng6,Bxf7,Ne5,Bxe5,dxe5,Kh1,exd4,c3,Bg7,cxd4,Qe7,Qg3,Bxd4,Rad1,c5,Bd5,Rf8,b4,Rxf1+,Rxf1,Be5', 'Qg8+,Kc7,Rf7', 'https://lichess.org/training/cU4xk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CU5fS', 'Blitz', 'Raj122345', 1613, 'GGG_boxer', 1609, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nd7,d4,Nb6,Bb3,Bg4,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,dxe5,dxe5,f3,Bb4,O-O,O-O,Nd5,Nbxd5,exd5,Rad8,c4,b5,a3,Bc5+,Kh1,bxc4,Bxc4,Nxd5,b4,Bb6,Bb2,Ne3,Rfc1,Nxc4,Rxc4,f6,a4,a5,Ba3,axb4,Bxb4,Rfe8,Rac1,e4,fxe4,Rd4,a5,Rxc4,Rxc4,Bf2,Rxc7,Rxe4,Rc8+,Kh7,Bd6,Rd4,Rc6,h5,Kh2,h4,Bc7,Rd3,a6', 'Bg3+,Bxg3,hxg3+,Kg1,Rd1#', 'https://lichess.org/training/CU5fS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cU662', 'Rapid', 'RedOvermind', 1982, 'lgtspln', 1951, 'd4,c5,Nf3,e6,c4,Nf6,Nc3,Be7,e4,cxd4,Nxd4,d6,Be2,O-O,O-O,Nbd7,Be3,a6,Rc1,Qc7,b4,b6,b5,Nc5,Nc6,Bb7,Nxe7+,Qxe7,f3,a5,Na4,Qc7,Bf4,Rfd8,Bg5,Nxa4,Qxa4', 'Qc5+,Kh1,Qxg5', 'https://lichess.org/training/cU662');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cu6u3', 'Classical', 'VictorMigue1', 1644, 'EfeBirtan', 1648, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,f6,d5,Nce7,Nh4,g6,d6,cxd6,Qd5,Nxd5,Nxg6,Rh7,Bxd5,Rg7,Nh4,f5,Nxf5,Rxg2,Nc3,Qb6,Rf1,Ne7,Ne3,Nxd5,Ncxd5,Qa5+,Bd2,Qb5', 'Nc7+,Kd8,Nxb5', 'https://lichess.org/training/cu6u3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cu6v3', 'Rapid', 'CONCEntrado', 1687, 'joaomarcoslrv', 1690, 'b4,e5,Bb2,d6,d4,Qe7,dxe5,dxe5,Nf3,g6,Nxe5,Bg7,Nc6,Nxc6,Bxg7,Qxb4+,c3,Qb2,Nd2,Bd7,Bxh8,O-O-O,Bd4,Nxd4,cxd4,Qxd4,Rc1,Ba4,Nb3', 'Qb4+,Qd2,Rxd2', 'https://lichess.org/training/cu6v3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CU7gg', 'Rapid', 'rhuta', 1924, 'GoEasyOnMePlz', 1842, 'e4,c5,Nf3,d6,d4,cxd4,c3,Nf6,cxd4,Nxe4,Bd3,Qa5+,Nbd2,Nxd2,Bxd2,Qb6,O-O,Bg4,Qa4+,Nc6,d5,Bxf3,gxf3,Qd4,dxc6', 'Qxa4,cxb7,Rb8', 'https://lichess.org/training/CU7gg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cuaPS', 'Blitz', 'MANS1113', 2078, 'Muhammetjan', 2019, 'e4,c5,f4,e6,Nc3,a6,a4,d6,Bc4,Nf6,Nf3,Be7,O-O,O-O,d3,Nc6,Be3,b6,Ba2,d5,exd5,exd5,Ne2,d4,Bd2,Bb7,Ng3,Nd5,Ne5,Bf6,Nxc6,Bxc6,Ne4,Re8,Qg4,Ne3,Bxe3,dxe3,Rae1,Bxe4,dxe4,Rxe4,Rf3,Bxb2,Rg3,g6,Qf3,Qd4,f5,Rf8,fxg6,Rf4,gxf7+,Kh8,Qh5,e2+,Kh1', 'Rf1+,Rxf1,exf1=Q#', 'https://lichess.org/training/cuaPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cub80', 'Rapid', 'mundistrul', 1732, 'Nojo0915', 1751, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,h6,d3,Bc5,c3,O-O,b4,Bb6,b5,Na5,Nxe5,Nxc4,Nxc4,d5,exd5,Qxd5,Ne3,Qxb5,Na3,Qe5,d4,Qe7,Re1,Be6,Nf5,Qd7,Nh4,Rfe8,Qf3,Bd5,Qd1,Rxe1+,Qxe1,Re8,Qd1,Qg4,Qxg4', 'Re1#', 'https://lichess.org/training/cub80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cuBnZ', 'Bullet', 'PefouLeFou', 1610, 'kart33', 1630, 'e4,e6,Bc4,d5,exd5,exd5,Bd3,Nf6,h3,c6,Nf3,Bd6,O-O,O-O,c4,dxc4,Bxc4,Re8,a3,Be6,Bxe6,Rxe6,d4,Nbd7,Be3,Qa5,Qb3,b6,Nc3,Rae8,Bg5,Ne4,Nxe4,Rxe4,Be3,Nf6,Qc2,Qf5,Kh1,Qg6,Ng5,Rxe3,Qxg6,hxg6,fxe3,Rxe3,Rac1,c5,dxc5,Bxc5,Rfd1,Kf8,Rd8+,Ke7,Rcd1,Re2,Ra8,a6,Rxa6,Rxb2,Ra7+,Ke8,Re1+,Kd8,Nxf7+,Kc8,Ne5,Bd6,Nxg6,Ne4,Rxg7,Ng3+,Kg1,Ne2+,Kf1,Ng3+,Kg1,Ne2+,Kf2,Bc5+,Kf3,Bd6,Rxe2,Rb3+,Kf2', 'Bg3+,Kf1,Rb1+,Re1,Rxe1#', 'https://lichess.org/training/cuBnZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CuCdN', 'Rapid', 'crepord', 1955, 'doubledoor', 1971, 'd4,e6,e3,d5,c4,c5,cxd5,exd5,dxc5,Bxc5,Nf3,Nc6,a3,Nf6,Be2,O-O,O-O,Re8,Nc3,a6,b4,d4,Na4,Ba7,Nc5,dxe3,Bxe3,Qc7,Rc1,Bb8,g3,Bg4,Qc2,Ba7,Nxa6,bxa6,Qxc6,Qxc6,Rxc6,Bxe3,fxe3,Rxe3,Kf2,Rae8,Bd1,Bh3,Re1', 'Ng4+,Kg1,Rxe1+,Nxe1,Rxe1#', 'https://lichess.org/training/CuCdN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cucv3', 'Rapid', 'winwalker', 2052, 'Apo707', 2181, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ng5,Nf6,e5,Qe7,d4,h6,Bxf4,hxg5,Bxg5,Qb4+,c3,Qxb2,Bxf6,Rh6,Bc4,Qxg2,Rf1,d5,exd6,Bxd6,Qd2,Bg3+,Kd1,Qxd2+,Nxd2,Bxh4,Bxh4,Rxh4,Rxf7,Rh1+,Nf1,g3,Kc2,g2,Re1+,Kd8,Rf8+,Kd7,Rf7+,Kd8,Rf8+,Kd7,Rf7+,Kc6,Rf6+,Kd7,Be6+,Ke7,Rf7+,Kd8,Rf8+,Ke7,Rf7+,Kd8,Bxc8,gxf1=Q,Rfxf1,Rh8', 'Bxb7', 'https://lichess.org/training/cucv3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cuD8y', 'Rapid', 'bob1000', 1888, 'LaciSzocs', 1898, 'd4,Nf6,Bf4,g6,c4,Bg7,Nf3,O-O,Nc3,d5,e3,c5,dxc5,Ne4,Rc1,Qa5,Be5,Bxe5,Nxe5,Nxc3,Rxc3,Qxa2,Qc1,Qa5,cxd5,Nd7,Nxd7,Bxd7,Be2,Rac8,b4,Qxb4,O-O,Bb5,Bxb5,Qxb5,e4,Rfd8,Qe3,Qd7,Rd1,a6,Rdc1,f5,c6,bxc6,dxc6,Rxc6', 'Rxc6,Qd1+,Qe1', 'https://lichess.org/training/cuD8y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CuDm9', 'Blitz', 'Haplo05', 1958, 'MaciekSzachista', 1875, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,c5,c3,Nc6,O-O,Qb6,Nbd2,cxd4,cxd4,Nge7,Nb3,Nf5,Bf4,Be7,h3,f6,exf6,Bxf6,Rfe1,Ncxd4,Nbxd4,Nxd4,Nxd4,Bxd4,Be3,Bxe3,Rxe3,O-O,Rae1,Qxb2,Rxe6,Qxf2+,Kh1,Rad8,Qb5,Qxa2,Qxb7,Qd2,Re7,Kh8,Qxa7,d4,R7e2,Qc3,Qe7,h6,Rf2,Rg8,Re6,d3,Rf7,d2', 'Rxh6+,gxh6,Rh7#', 'https://lichess.org/training/CuDm9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CUe6X', 'Classical', 'lu_tfi', 1804, 'MuhammadHamod', 1808, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,g6,Nc3,Bg7,f4,d6,Bb5+,Nd7,Be3,a6,Ba4,b5,Bb3,Bb7,a3,Ne7,Qd2,Nc5,Ba2,Nxe4,Nxe4,Bxe4,O-O-O,Bxg2,Rhg1,Bb7,f5,exf5,Bh6,Qb6,Bxg7,Rg8,Bf6,Nd5,Nxf5,Nxf6,Nxd6+,Kf8,Nxf7,Rg7,Nh6,Rd7,Qb4+,Kg7,Nf5+,Kh8,Rxd7', 'Qxg1+,Rd1,Qg5+', 'https://lichess.org/training/CUe6X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CuEUh', 'Classical', 'NM suhermat', 2179, 'VVSn74', 1735, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Be3,e6,f3,Be7,Qd2,Nbd7,g4,h6,O-O-O,Qc7,h4,b5,Be2,Bb7,g5,hxg5,hxg5,Nh5,g6,fxg6,Nxe6,Qa5,Kb1,Rg8,f4,Rc8,Rxh5,gxh5,Bxh5+,g6,Bxg6+,Rxg6,f5,Rxe6,fxe6,Nf6,Qg2,Rxc3,Qg6+,Kd8,bxc3,Qxc3,Bd4,Qb4+,Ka1,Bxe4,Qf7,Qa5', 'Bxf6,Bxf6+,Qxf6+', 'https://lichess.org/training/CuEUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cuFoh', 'Rapid', 'nirk1988', 1953, 'kyky22', 1984, 'e4,Nc6,Nf3,e5,Bc4,h6,Nc3,Nf6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,O-O,O-O,d6,Rad1,Qe7,Rfe1,Bg4,f3,Be6,e5,Bxc4', 'exf6,Qxf6,Qxc4', 'https://lichess.org/training/cuFoh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cug3B', 'Rapid', 'mgrzybek', 1716, 'yusuf343', 1663, 'Nf3,d5,c4,dxc4,e3,b5,a4,c6,b3,Be6,bxc4,bxc4,Nc3,Bd5,Be2,e6,Ne5,Nf6,Bxc4,Bxc4,Nxc4,Bb4,Qb3,Bxc3,Qxc3,O-O,O-O,Nd5,Qe5,Nd7,Qd6,N7f6,Qxc6,Rc8,Qa6,Nb4,Qb5,Nc2,Ra2,Rb8,Qa6,Nb4,Qxa7,Nxa2,Ba3,Ra8,Qb6,Re8,Qb5,Rb8,Qc6,Nd5,Nd6,Rb6', 'Qxe8+,Qxe8,Nxe8', 'https://lichess.org/training/Cug3B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CugiW', 'Blitz', 'Pecari_del_Chaco', 2272, 'Toponet9952', 1939, 'e4,g6,Nf3,e6,d3,Bg7,g3,d5,exd5,exd5,Bg2,Be6,O-O,Nd7,Be3,Ne7,c3,O-O,Nbd2,c5,Nb3,b6,Qd2,f6,Rfe1,Bf7,Bh6,Nf5,Bxg7,Kxg7,c4,Rc8,Rad1,d4,Nc1,Re8,Ne2,Qc7,Nf4,Rxe1+,Rxe1,Ne5,Nxe5,fxe5,Nd5,Bxd5,cxd5,Re8,b4,Qd6,bxc5,bxc5,Qa5,Re7,a4,h5,Be4,Kh6,Qd2+,Kg7,a5,a6,Rb1,Rf7,Rb6,Qe7,Re6,Qb7,Rxe5', 'Qb1+,Kg2,Ne3+,Kh3,Qf1+', 'https://lichess.org/training/CugiW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cUgPC', 'Blitz', 'CM satranc777', 2406, 'CM Chess_Horse', 2419, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Qc2,h5,Ne2,Re8,Be3,Nd7,O-O-O,Nf8,h3,Ne6,g4,h4,f4,Qa5,Kb1,b5,Bf2,Nc7,Bxh4,Be6,b3,Nd5,Be1,Ne3,Qc1,Nxd1,Qxd1,Bd5', 'c4,b4,cxd5', 'https://lichess.org/training/cUgPC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cUIc1', 'Rapid', 'CHIGORIN5', 1806, 'asantoso', 1963, 'e4,d5,e5,d4,f4,c5,Nf3,a6,a4,Bg4,Bc4,e6,O-O,Nh6,d3,Be7,h3,Bh5,g4,Bg6,Nbd2,Ng8,Ne4,h5,Nfg5,hxg4,hxg4,Bxe4,dxe4,Nc6,Qf3,Na5,Nxf7,Kxf7,f5,Nxc4', 'fxe6+,Kxe6,Qf5#', 'https://lichess.org/training/cUIc1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CujBB', 'Blitz', 'Amavin', 1721, 'zhenyu_wu_yin', 1569, 'Nf3,Nc6,d4,d5,Bf4,Nf6,e3,Bf5,c3,e6,Nbd2,Bd6,Be5,Bxe5,Nxe5,Nxe5,dxe5,Ne4,Nxe4,Bxe4,f3,Bg6,g3,O-O,Bd3,Bxd3,Qxd3,c5,f4,Qb6,Qc2,Rad8,O-O-O,a5,g4,Qc6,h4,b5,g5,g6,h5,b4,hxg6,fxg6,Rh6,bxc3,bxc3,Rb8,Rdh1,Rf7,Qxg6+,hxg6', 'Rh8+,Kg7,R1h7#', 'https://lichess.org/training/CujBB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cUmcY', 'Rapid', 'ihsima', 1618, 'Salman01361', 1723, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kf1,Qe7,Nxh8,Nxe4,Qh5+,g6,Nxg6,hxg6,Qxg6+,Kd8,Qxe4,Bc5,d3,Qf6+,Qf3,Qg7,Be3,Bxe3,Qxe3,Nd4,Na3,d5,Bxd5,Bg4,Ke1,Rb8,Kd2,b5,h3,Nf5,Qc5,Qg5+,Kc3,Bh5,Qf8+,Be8,Bc6', 'b4+,Qxb4,Rxb4', 'https://lichess.org/training/cUmcY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CUo5B', 'Rapid', 'Markoniko', 1918, 'tadzik2007pl', 1822, 'd4,d5,Nf3,Nc6,c4,e6,Nc3,Bb4,Bf4,dxc4,e3,Nf6,Bxc4,Ne4,Qc2,f5,O-O,g5,Nxe4,gxf4,Nc5,Bxc5,dxc5,Qe7,exf4,Rg8,Ng5,Qg7,g3,Nd4,Qd3,h6,Nxe6,Bxe6,Rfe1,O-O-O,Bxe6+,Nxe6,Qxf5,Qxb2,Qxe6+,Kb8,Rab1,Qc3,Qa6', 'Qxe1+,Rxe1,bxa6', 'https://lichess.org/training/CUo5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cupNC', 'Blitz', 'Eremeev', 2216, 'FM Sandstad', 2258, 'd4,Nf6,Nf3,e6,Bg5,c5,e4,h6,Bxf6,Qxf6,e5,Qd8,Nc3,cxd4,Qxd4,Nc6,Qe4,d5,exd6,Bxd6,O-O-O,Qe7,Bb5,Bd7,Rhe1,a6,Ba4,b5,Bb3,O-O,Kb1,Rad8,Qg4,Bc5,Nd5', 'exd5,Rxe7,Bxg4', 'https://lichess.org/training/cupNC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cuQ5H', 'Rapid', 'gribfingers', 1778, 'mashar', 1624, 'e4,c5,Nc3,e6,Nf3,Nc6,Bb5,Nce7,d4,a6,Be2,b6,d5,exd5,Nxd5,Nxd5,Qxd5,Ra7,O-O,Nf6,Qe5+,Be7,Bg5,O-O,Nd2,d6,Qf4,b5,c3,c4,Rad1,a5,Nf3,Nh5,Bxe7', 'Nxf4,Bxd8,Nxe2+', 'https://lichess.org/training/cuQ5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cuRBg', 'Rapid', 'nikolas64', 1767, 'molekula59', 1732, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bc4,Ngf6,Qe2,Nxe4,Qxe4,Nf6,Qe3,Bf5,Nf3,Bxc2,Ne5,e6,Nxf7,Bb4+,Bd2,Bxd2+,Kxd2,Qa5+,Kxc2,Kxf7,Qxe6+,Kg6,Bd3+,Kh6,h4,Qa4+,Kb1,Qxd4,Bc2,Rhe8,Qf5,Re5,Qf3,Rae8,a3,Re2,Rd1,Qxf2,Qd3,Qxg2,Qf5,Qg6', 'Qf4+,Kh5,Bxg6+', 'https://lichess.org/training/cuRBg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cuRDh', 'Rapid', 'MUS-1EL', 1901, 'mohammdrezahoseini', 1878, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,Nc3,Be7,O-O,O-O,Nf5,Ne5,Nxe7+,Qxe7,Re1,Rfe8,Nd5,Nxd5,exd5', 'Nf3+,gxf3,Qxe1+,Qxe1,Rxe1+', 'https://lichess.org/training/cuRDh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cuRPm', 'Blitz', 'DVRazor', 2239, 'chessnightmare', 2363, 'e4,c5,Nf3,e6,Nc3,Nc6,d4,cxd4,Nxd4,Qc7,Be3,a6,Qf3,Nf6,Be2,Bd6,O-O-O,Ne5,Qh3,b5,f4,Ba3,fxe5,Qxc3,exf6', 'Qxb2+,Kd2,Bb4+,Kd3,Qc3#', 'https://lichess.org/training/cuRPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CuTH1', 'Rapid', 'TalCentury', 2122, 'Pawn7', 2156, 'Nf3,c5,c4,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,Nc3,Nc6,e4,d6,d4,Bg4,Be3,Nd7,dxc5,Nde5,cxd6,Qxd6,Qxd6,exd6,Nd2,Nd3,Rab1,Rab8,Na4,Bd7,Rfd1,Ncb4,Nc3,Nxb2,Rxb2,Bxc3,Rb3,Ba4,Rxc3,Bxd1,a3,Nc6,Rd3,Ne5,Rxd6,Rfd8,c5,Rxd6,cxd6,Rd8,h3,Rxd6,f4,Nc6,Nc4,Rd3,Bf1,Rc3,Kf2,Bb3,Nd6,b6,Bb5,Na5,e5,Nc4,Bxc4,Bxc4,g4,Bd5,Nb5,Rc2+,Kg3,a6,Nd6,Rc3,Kf2,Rxa3,f5,b5,Ne8,Kf8,Nf6,Bc6', 'Bc5+,Kg7,Bxa3', 'https://lichess.org/training/CuTH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cUtjE', 'Rapid', 'ChessClock77', 1818, 'Gen1962', 1894, 'e4,e5,Nf3,Nf6,Nc3,Bb4,a3,Ba5,b4,Bb6,Bc4,O-O,O-O,Nc6,Nd5,Nxd5,Bxd5,Nd4,Bb2,c6,Ba2,d6,c3,Ne6,d4,exd4,cxd4,Nf4,d5,Bg4,Bc1,Qf6,Be3,Bxe3,fxe3,Ng6,Qd2,Bxf3,Rxf3', 'Qxa1+,Rf1,Qe5', 'https://lichess.org/training/cUtjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CuU2x', 'Rapid', 'bluerider', 1847, 'cabernet14', 1847, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Nc6,e5,Ng4,Bxf7+,Kxf7,Ng5+,Kg8,Qxg4,Be7,Nf3,d6,Qe4,dxe5,Nxe5,Nxe5,Qxe5,Bf6,Qe4,Qe7,Nd2,Bf5,Qxe7,Bxe7,O-O,Bxc2,Nc4,Bb4,Bf4,Bd3,Rfc1,b5,Ne5,Be4,Rxc7,Bd6,Rd7,Bc5,Bg3,h5,h4,Kh7,Re1,Bf5,Rf7,Be6,Rf3,Bxa2,b3,Rhe8,Ra1,d3,Rxd3,Bxb3,Rxb3,Bd4,Re1,Rac8,Nf3,Rxe1+,Nxe1,Rc1,Kf1,a5,Rxb5,a4,Rb4,Bc3,Re4,a3,Ke2,a2,Ra4,a1=Q,Rxa1,Rxa1,Nd3,Ra2+,Kf3,Bf6,Nc5,g5,hxg5,Bxg5,Ne6,Ra3+,Ke4,Bf6,Kf5,Bc3,Ng5+,Kg7,Be5+,Kf8', 'Bd6+,Ke8,Bxa3', 'https://lichess.org/training/CuU2x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cUUHa', 'Rapid', 'Familiar_name', 1914, 'Mohit99', 2016, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Bd3,c5,c3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Bd7,O-O,O-O,Rac1,Nd5,Ne5,Rc8,Rxc8,Bxc8,Rc1,f6,Nf3,Bd7,Re1,Qc7,Rc1,Bc6,b4,Qb6,b5,Bd7,a4,Qd6,Bc4,Rc8,g3,Qb4,Qa2,Qd6,Qb3,Nb6,Kg2,Kf7,a5,Nd5,Re1,Qb4', 'Bxd5,Qxb3,Bxb3', 'https://lichess.org/training/cUUHa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CUuUg', 'Rapid', 'sakkariini', 1778, 'Alexandrs', 1854, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,Nxd4,Qxd4,Nf6,Bb5,a6,Ba4,b5,Bb3,d6,e5,dxe5', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/CUuUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CUUwN', 'Rapid', 'charlesathkg', 1774, 'MadTal', 1697, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,d3,h6,h3,Nd4,Nbd2,Nf6,c3,Ne6,d4,exd4,cxd4,Nxd4,e5,dxe5,Nxe5,O-O,Ndf3,Nxf3+,Qxf3,Qd4,Re1,Bd6,Nxf7,Rxf7,Re8+,Bf8,Bxf7+,Kxf7,Be3,Qd3', 'Rxf8+,Kxf8,Bc5+', 'https://lichess.org/training/CUUwN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CuvAm', 'Rapid', 'Armaanlalawat', 1610, 'lgonzaguille', 1636, 'e4,e5,Bc4,Nc6,Nf3,h6,d4,Bd6,dxe5,Nxe5,O-O,Nxc4,Nc3,Nb6,e5,Be7,e6,dxe6,Qxd8+,Bxd8,Bf4,Ne7,Nb5,c6,Nd6+,Kf8,Ne5,Bd7,Nxd7+,Nxd7,Rad1,e5,Bg3,f5,f4,e4,Bh4,Bb6+,Kh1,Nd5,Nxf5,N7f6,g4,Nxg4,Rde1,e3,Rg1,Nf2+,Kg2,Nxf4+,Kf3,Nh5,Nxe3,Nh3,Rg4,Bxe3,Rxe3,Re8,Rd3,g5,Bg3,Nf6,Rgd4,Ng1+,Kg2,Ne2,Rd8,Nxg3,Rxe8+,Nxe8,hxg3,g4,Rd7,b5,Rxa7,h5,Rb7,Rh6,Rb6,Ke7,b3,Nc7,c4,Kd6,cxb5,Nxb5,a4,Kc5,Rb7,Nd6,b4+,Kc4,Rb6,Nc8,Rb7,Nd6,a5,Nb5,a6,Kxb4', 'a7,Rh8,Rb8', 'https://lichess.org/training/CuvAm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cUVgm', 'Rapid', 'kemo12', 1781, 'goudinho', 1718, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,Nf6,O-O,a6,Nd5,exd5,exd5,Na5,Re1+,Be7,d6,Nxc4,Rxe7+,Kf8,Qb3,Nxd6,Ng5,Qxe7,Bf4,Nf5,g4,Nh6,Rd1,Nhxg4', 'Bd6,Kg8,Bxe7', 'https://lichess.org/training/cUVgm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CUvt0', 'Blitz', 'kahrimao', 2053, 'hihihaha2', 2038, 'Nf3,Nc6,c4,e5,Nc3,f5,d3,Nf6,g3,Bb4,Bg2,O-O,O-O,d6,Qb3,a5,a3,a4,Qc2,Bxc3,Qxc3,Ne7,b4,axb3,Qxb3,Kh8,Bg5,c6,Rfb1,h6,Bc1,Nd7,Nd2,Nc5,Qb2,f4,Nb3,Na4,Qc2,fxg3,hxg3,Nf5,Nd2,Nd4,Nb3,Nxb3,Qxb3,Nc5,Qc2,Qf6,Be3,Ne6,Qd2,Nd4,Bxd4,exd4,e3,Ra5,e4,Rh5,f4,Qg6,Kf2,Rh2,Rh1,Rxh1,Rxh1,Bg4,Rh4,Bd7,Bf3,Qf6,Kg2,Kg8,f5,d5,cxd5,cxd5,Qb4,dxe4,dxe4,d3,Qxb7,Bc6,Qb3+,Kh7,Qxd3,Rd8,Qe3,Qb2+,Kh3,Rd2,Kg4,Bd7,Rh5,Be8,Rh4,Rh2,e5,Rxh4+,gxh4,Qh2,e6', 'h5+,Kg5,Qg3+,Bg4,Qxe3#', 'https://lichess.org/training/CUvt0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CuX0b', 'Blitz', 'TheZyrax', 1704, 'Thiago_Yugioh', 1676, 'd4,d5,Nf3,e6,g3,Nf6,Bg2,c5,O-O,cxd4,Nxd4,Nc6,c4,Bc5,Nxc6,bxc6,cxd5,cxd5,Nc3,Bd7,e4,d4,e5,Nd5,Nxd5,exd5,Bxd5,Rc8,e6,fxe6,Re1,O-O,Bxe6+,Kh8,Bxd7,Qxd7,Qd3,Qf5,Qxf5,Rxf5,Bf4,g5,Be5+,Kg8,Rac1,d3,Bc3,Bxf2+,Kg2,Bxe1,Rxe1,Rd5,Rd1,Re8,Rd2,a5,a3,Kf7,Kf2,Kg6,Kf3,Kh5,g4+,Kh4,Rg2,Red8,Be1+,Kh3,Rg3+,Kxh2,Rg2+,Kh1,Rg3,d2', 'Rh3+,Kg1,Bf2+,Kf1,Rh1#', 'https://lichess.org/training/CuX0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CuYTQ', 'Rapid', 'Dschingis', 1828, 'mostar123', 1960, 'd4,d5,Nf3,c6,c4,h6,Qc2,Nf6,Nbd2,Na6,a3,Bg4,g3,e6,Bg2,Bd6,c5,Bb8,b4,Nc7,Ne5,Bf5,Qb3,O-O,a4,Nce8,O-O,Bxe5,dxe5,Nd7,f4,a5,Bb2,b6,Bd4,bxc5,bxc5,Rb8,Qc3,Rb4,e4,Bg4,Rfb1,Qb8,Rxb4,axb4,Qb3,Nc7,Bf1,dxe4,Nxe4,Bf5,Nd6,Nd5,Nxf5,exf5,Bc4,Qa8,Bxd5,cxd5,Qxb4,Rb8,Qc3,Qc6,a5,Rb5,a6,Nxc5,Bxc5,Rxc5,Qb4,Rb5', 'Qxb5,Qxb5,a7', 'https://lichess.org/training/CuYTQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cv02t', 'Rapid', 'pasha_1980', 1759, 'ssssssssss29012901', 1826, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,Bc5,Nc3,d6,h3,Nf6,Bg5,O-O,Qf3,Nd4,Qd1,Be6,Nf3,Nxf3+,Qxf3,Qe7,O-O-O,Bb4,Nd5,Bxd5,exd5,a5,Bb5,c6,dxc6,bxc6,Bxc6,Rab8,c3,Rfc8,cxb4,Qc7,b5,Rxb5,Bxf6,gxf6,Qg3+,Kh8,Qxd6,Qxc6+,Kb1', 'Qc2+,Ka1,Qxb2#', 'https://lichess.org/training/Cv02t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cv0SQ', 'Rapid', 'Abeheri', 1735, 'kosmomysl', 1623, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Bg5,h6,Be3,Bxe3,fxe3,O-O,c3,d6,h3,a6,a4,d5,exd5,Nxd5,Qe2,Nf6,O-O,Bf5,a5,Nh5,Nxe5,Qg5,Nxf7,Rxf7,Bxf7+,Kxf7,e4,Ng3,Rxf5+,Qxf5,exf5,Nxe2+,Kf2,Re8,Na3,Nf4,Nc4,Nxd3+,Kg3,Kf6,Rf1,Nce5,Nxe5,Rxe5,b4,Re3+,Kh2,Ne5,g4,Rxc3,Rf4,b6,axb6,cxb6,h4,a5,bxa5,bxa5,Ra4,Nc4,Ra2,Ra3,Re2,Re3,Rc2,Ne5,Ra2,Nc6,Rd2,a4,Rd6+,Ke5,Rxc6,a3,Rc1,a2,Ra1,Re2+,Kg3,Rb2,Kf3,Kd4,g5,hxg5,hxg5,Kc3,f6,gxf6,gxf6,Kd3', 'f7,Rb8,Rxa2,Rf8,Ra7', 'https://lichess.org/training/cv0SQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cv3r7', 'Blitz', 'ivanvlah', 1736, 'Newombat', 1898, 'd4,Nf6,g3,d5,Bg2,c6,Nf3,g6,Nbd2,Bg7,O-O,O-O,Re1,Re8,e4,dxe4,Nxe4,Nbd7,c3,Nxe4,Rxe4,e5,dxe5,Nxe5,Qe2,Nxf3+,Bxf3,Rxe4,Qxe4,Bf5,Qb4,Qd7,Be3,a5,Qb6,Rd8,Rd1,Qxd1+,Bxd1,Rxd1+,Kg2,Be4+,Kh3,Rg1,Kg4,f5+,Kf4,h6,h4,Bf6,Qxb7', 'g5+,hxg5,hxg5#', 'https://lichess.org/training/cv3r7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cV4fB', 'Blitz', 'Mutuerz-senpai', 1537, 'castelinho', 1561, 'd4,e6,c4,d5,Nc3,Nf6,e3,dxc4,Bxc4,Bb4,Bd2,O-O,a3,Bxc3,bxc3,c6,Nf3,b5,Bd3,Nbd7,O-O,Nb6,Ne5,Qc7,h4,Na4,h5,h6,Bc2,Nb2,Qe2,Nc4,Nxc4,bxc4,Qxc4,Nxh5,Bd1,Nf6,f4,a5,Qa4,Ne4,Be1,Ba6,Rf3,Bb5,Qc2,f5,Rh3,c5,c4,Ba6,Bf3,Bb7,d5,exd5,Bxe4,dxe4,Rd1,Rfd8,Rg3,Rxd1,Qxd1,Qf7,Bc3,g6,Qh5,Kh7', 'Qxh6+,Kxh6,Rh3#', 'https://lichess.org/training/cV4fB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cV5ly', 'Rapid', 'jpb83', 1824, 'andrw67', 1832, 'e4,e5,Nc3,Bc5,f4,Bxg1,Rxg1,exf4,Qg4,g5,d4,d5,Qf3,dxe4,Nxe4,Qe7,Bd2,f5,Qh5+,Kd8,O-O-O,fxe4,Bc4,h6,Bc3,Nf6,Qe2,Be6,d5,Bxd5,Bxd5,Nxd5,Bxh8,Kc8,Rxd5,Nc6,Bc3,a6,Re1,e3,Qg4+,Kb8,Qh5,Qe6,Rd3,Qxa2,Kd1', 'Qb1+,Ke2,Qxc2+', 'https://lichess.org/training/cV5ly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cV6ax', 'Blitz', 'FM Punchableface', 2537, 'V_vs', 2552, 'd4,Nf6,Nc3,g6,e4,d6,Bg5,Bg7,e5,Nfd7,f4,c5,Nf3,cxd4,Qxd4,Nc6,Qa4,dxe5,O-O-O,exf4,Bxf4,O-O,h4,e5,Bg5,Qa5,Qxa5,Nxa5,Be7,Re8,Bd6,Nb6,Nb5,Rd8,Nc7,Rb8,Ne8,Bh6+,Ng5,Bg4', 'Nf6+,Kg7,Nxg4,Bxg5+,hxg5', 'https://lichess.org/training/cV6ax');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cv8Ly', 'Rapid', 'milad196', 1914, 'MahmoudMahmoudi', 1852, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,d3,Nxc4,dxc4,Bc5,h3,O-O,Nc3,h6,Nge4,Nxe4,Nxe4,Bd4,c3,f5,Ng3,Bb6,O-O,a5,Re1,f4,Ne4,Qh4,Qf3,Bf5,Nd2,Rae8,b4,axb4,cxb4,Bd4,Rb1,Rf6,Bb2,Bxb2,Rxb2,Rg6,Kh2,Bg4,Qe4,Qh5,Nf3,Bf5,Qe2,e4,Nd4,f3,gxf3,exf3,Qxe8+,Kh7,Nxf5', 'Rg2+,Kh1,Qxh3#', 'https://lichess.org/training/Cv8Ly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cV90s', 'Rapid', 'Mocci', 1682, 'Apan', 1990, 'd4,d5,c4,e6,Nc3,Nf6,e3,Nc6,cxd5,exd5,Bd3,Bd6,h3,a6,Nf3,O-O,a3,Re8,O-O,h6,Re1,Bd7,Qb3,Na5,Qd1,c5,dxc5,Bb8,b4,Nc6,Bb2,Qc7,Ne2,Ne4,Bxe4,dxe4,Ng3,exf3,Qxf3,Ne5,Qd1,Ba7,Qc1,b6,Qc3,f6,Ne4,bxc5,bxc5,Rab8,Rac1,Rxb2,Qxb2,Bb5,Nd6,Rb8,Qa2+,Kh8,Red1,Bxc5,Ne4,Bc4,Rxc4,Nxc4,Qxc4,Bb6,Qe6,Ba5,Rd7', 'Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/cV90s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CvA47', 'Rapid', 'nalinsanghi', 1614, 'darioab', 1627, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Bxc6,Nxc6,d4,exd4,Nxd4,Nxd4,Qxd4,h6,b3,Be7,Qxg7', 'Bf6,Qg3,Bxa1', 'https://lichess.org/training/CvA47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cva93', 'Rapid', 'jerome-rondo13', 1815, 'lvv60', 1817, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,Bxd4,Nxd4,Nxd4,Bg5,h6,Bh4,O-O,f4,d6,fxe5,dxe5,c3,g5,cxd4,gxh4,Qf3,Qxd4+,Kh1,Qxc4,Qxf6,Qxe4,Nc3,Qg6,Qxe5,c6,Ne4,f5,Nd6,Be6,Rae1,Bd5,Rf3,h3,Re2,hxg2+', 'Rxg2,Kh7,Rxg6', 'https://lichess.org/training/cva93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CvaGQ', 'Rapid', 'hadi-irany', 2018, 'Andarbek78', 1968, 'e3,g6,b3,Bg7,d4,c5,Bb2,Nc6,Bb5,Qb6,Bxc6,Qxc6', 'd5,Bxb2,dxc6', 'https://lichess.org/training/CvaGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cvAoo', 'Rapid', 'polish_attack', 1859, 'happemonkey', 1809, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Bc4,Ng4,O-O,Qh4,h3,Nxf2,d4,Nxd1,Bxf7+,Kd8,dxc5,Nxc3,bxc3,Bd7,Rf4,Qe1+,Kh2,Rf8,Bb2,Qe2,Raf1,Qxc2,Ba1,Kc8,c4,g5,R4f2,Qxe4,Bg7,Rd8,Bf6,g4,Bxd8,Kxd8,Bh5,g3+,Kxg3,Qe5+,Kh4,Qe7+,Kg3,Qg5+,Bg4,Qe5+,Kh4,Be8,Rd1+,Ke7,Re2,Kf6', 'Rf1+,Kg7,Rxe5', 'https://lichess.org/training/cvAoo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cVBh4', 'Blitz', 'WillGraham01', 2004, 'SoftwareHR', 1998, 'c4,d5,cxd5,Nf6,Nc3,e5,dxe6,Bxe6,g3,Bc5,Bg2,Nc6,Nf3,Qd6,O-O,O-O-O,d3,Kb8,Bf4,Qe7,Rc1,Nd5,Nxd5,Bxd5,a3,Bb6,b4,Rhe8,Re1,f6,Qd2,g5,Nxg5,Bxg2,Kxg2,fxg5,Bxg5,Qf7,Bf4,Nd4,Rc4,Qh5,Be3,Qd5+,Kg1,Nb3,Qc3,Rxe3,Qxb3,Rg8,Rc3,Rexg3+,hxg3', 'Rxg3+,Kf1,Qg2#', 'https://lichess.org/training/cVBh4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CvBrK', 'Rapid', 'kad2016', 1635, 'RiverRun30', 1614, 'e4,e5,c3,Nc6,Nf3,Nf6,d3,d5,exd5,Nxd5,Be2,Bc5,O-O,Bg4,b4,Bd6,c4,Ndxb4,Nc3,Nd4,Nxd4,exd4,Bxg4,dxc3,Qb3,c2,a3,Nc6,Qxc2,Qh4,h3,O-O,c5,Nd4,Qc4,Be5,Ra2,Rfd8,f4,Bf6,Be3,c6,Bf2,Qh6,Kh2,Qxf4+,g3,Qc7,Bxd4,Bxd4,Rf4,Be3', 'Rxf7,Qxf7,Be6', 'https://lichess.org/training/CvBrK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cVBzN', 'Blitz', 'MehmedTheSaid', 1855, 'AliOnurD', 2256, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,c5,c3,c4,Nbd2,Bd6,Bg3,O-O,Qc2,b5,e4,Bxg3,hxg3,Nxe4,Nxe4,dxe4,Qxe4,f5,Qxa8,Qb6,O-O-O,Bb7,Qxb7,Qxb7,Be2,Rf6,Ne5,Nc6,Bf3,b4,Bxc6,Qb6,cxb4,Qxb4,f4,c3,bxc3,Qxc3+,Kb1,Rf8,Rd3', 'Rb8+,Bb7,Rxb7#', 'https://lichess.org/training/cVBzN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cvcpW', 'Rapid', 'evergar', 1873, 'Rafa2005', 1838, 'e4,e5,f4,Nc6,Nf3,Nge7,Bc4,h6,fxe5,d5,exd5,Nxd5,O-O,Be6,c3,Qe7,Bb5,Qc5+,Nd4,a6,Bxc6+,bxc6,Kh1,Be7,Nxe6,fxe6,Qh5+,Kd7,d4,Qb5,Nd2,Ne3,Re1', 'Nc2', 'https://lichess.org/training/cvcpW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cvd5I', 'Rapid', 'Tedioso', 2090, 'manavalam2', 1657, 'd4,e5,dxe5,Bc5,Qd5,d6,exd6,Bxd6,Bg5', 'Bb4+,Bd2,Qxd5', 'https://lichess.org/training/Cvd5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CvDGK', 'Rapid', 'tarjoko', 1907, 'bdfy76', 1994, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,h6,Be2,Bc5,b4,Bb6,b5,Ne7,Nxe5,d6,Nf3,O-O,O-O,a6,bxa6,Rxa6,d4,Nxe4,Bxa6,bxa6,Be3,Bg4,h3,Bh5,Re1,Qd7,Bxh6,Nxf2,Kxf2,gxh6,Qd2,Kh7,Qe2,Ng6,Qe4,Bxf3,Kxf3,Kg7,Nd2,c5,Rab1,Bd8,Rb7,Qc8,dxc5,Qxc5,Qd4+,Qxd4,cxd4,Bf6,Re4,Rc8,Ke2,Rc2,Kd3,Rxa2,g3,Ra3+,Rb3,Ra4,Nc4', 'd5,Nd6,dxe4+', 'https://lichess.org/training/CvDGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cVDr0', 'Rapid', 'dratak', 1786, 'adacovsk', 1825, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bd3,Nf6,O-O,Bc5,h3,O-O,a3,a5,Nc3,Bb7,Bg5,h6,Bh4,d6,Ne2,g5,Bg3,Nh5,c3,Nf4,Nxf4,exf4,Bxf4,gxf4,Qg4+,Qg5,Qxg5+,hxg5,Kh2,Ba6,Bxa6,Rxa6,f3,d5,exd5,cxd5,Rfd1,Rd6,Rd3,Rfd8,Rad1,f5,g3,fxg3+,Kxg3,Kf7,f4,gxf4+,Kxf4,Kf6,h4,d4,c4,Rh8,Rh1,Rh5,Kg3,Re6,Rf1,Re3+,Rxe3,dxe3,Re1,Rh8,b4,axb4,axb4,Bd6+,Kh3,f4,c5,Be5,c6,Rb8,Rb1,Rb5,Kg2,Kf5,Kf3,Bd6,h5,Kg5,Rd1,Bxb4', 'c7,Rc5,Rd5+,Rxd5,c8=Q', 'https://lichess.org/training/cVDr0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cVEaR', 'Blitz', 'ahmet2424', 1669, 'llocorse', 1629, 'e4,c6,Nf3,d5,exd5,cxd5,c4,Nf6,cxd5,Nxd5,Nc3,Nc6,Bc4,Nf6,d3,Bf5,O-O,e6,Bb5,Be7,Bxc6+,bxc6,Bg5,h6,Bh4,Nd5,Bxe7,Qxe7,Nxd5,cxd5,Ne5,O-O,g4,Bh7,f4,Qd6,d4,Rab8,g5,hxg5,fxg5,Be4,Qh5,Rxb2,g6,fxg6,Rxf8+,Kxf8,Rf1+,Ke7,Nxg6+,Kd7,Rf7+,Kc6,Ne5+,Kb5,Rb7+,Ka4,Qd1+,Ka3,Rxb2,Kxb2,Qb3+,Kc1,Qc3+,Bc2', 'Nd3+,Kb1,Qb2#', 'https://lichess.org/training/cVEaR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cvETG', 'Rapid', 'behrooz1x', 1813, 'frehel', 1744, 'c4,e5,Nc3,Bc5,g3,d6,Bg2,Nc6,e3,Bd7,Nge2,Nf6,d4,exd4,exd4,Bb4,Qc2,O-O,O-O,h6,a3,Bxc3,Qxc3,Re8,Be3,Ne7,Rfe1,Rb8,Qd2,Nf5,Nc3,Nxe3,Rxe3,Rxe3,Qxe3,Qe8,Re1,Qxe3,Rxe3,Kf8,h4,c6,b4,a6,Na4,Be6,Nb6,Rd8,Kh2,Nd7,c5,dxc5,dxc5,Nxb6,cxb6,Bd5,Kh3,Bxg2+,Kxg2,Rd5,a4,Rd4,Rb3,Ke7,Kf3,Kd6,Ke3,c5,bxc5+,Kxc5,a5,Rb4,Rc3+,Rc4,Rb3,Kc6,Kd3,Rc5,Ra3,Kb5,Kd4,Rf5,f3,Kb4,Rc3,Kxa5,Rc5+,Rxc5,Kxc5,Ka4', 'Kd6,Kb5,Kc7', 'https://lichess.org/training/cvETG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cVex3', 'Blitz', 'louism00', 1772, 'mockingbeard', 1760, 'e4,e5,Nf3,Nf6,Bc4,Nc6,d3,d5,exd5,Nxd5,O-O,h6,Re1,Ndb4,Nxe5,Nxe5,Rxe5+,Be7,Nc3,O-O,a3,Nc6,Re1,Bc5,Ne4,Bd4,c3,Be5,d4,Bf6,Nxf6+,Qxf6,Bb5,Ne7,Qe2,Nf5,Qf3,Qg6,Bd3,Bd7,h3,Rae8,Rxe8,Rxe8,Bf4,c6,Be5,f6,Bh2,Re7,d5,Qe8,Bxf5', 'Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/cVex3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cvexi', 'Classical', 'nenQueensProblem', 1780, 'AlexKubrak', 1821, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Nf6,Nc3,Bc5,Be3,Bb6,Bxb6,axb6,O-O,d6,Nd5,Na5,Bb5+,c6,Nxf6+,Qxf6,Ba4,b5,Bb3,Bg4,h3,Bxf3,Qxf3,Qxf3,gxf3,O-O,a4,Nxb3,cxb3,b4,Rac1,c5,Kg2,f5,h4,f4,Kh3,Rf6,Rg1,b6,Rg2,Rf7,Rcg1,Raa7,Rg6,Rad7,Re6,Kh7,Rgg6,Kg8,Rxd6,Kh7,Rge6,Rxd6,Rxd6,Rf6,Rd5,Re6,Kg4,g6,Rd7+,Kg8,Rc7,Kf8,Rh7,h5+,Kg5,Rd6,Rh6', 'Kg7,Rxg6+,Rxg6+', 'https://lichess.org/training/Cvexi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cVFaf', 'Rapid', 'Dael74', 1888, 'petya33', 1870, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,dxe5,Qxd8+,Kxd8,Nxe5,Be6,Bc4,f6,Bxe6,fxe5,O-O,Bd6,Bg5+,Nf6,Nd2,h6,Bxf6+,gxf6,Nc4,Ke7,Bf5,Nc6,c3,h5,Rad1,Rag8,Nxd6,cxd6,Rd2,h4,h3,Rg5,Rfd1,Rhg8,f3,Rd8,b4,b5,Rd5,a6,R5d2,a5,a3,axb4,cxb4,Nd4,Rc1', 'Nxf3+,Kf2,Nxd2', 'https://lichess.org/training/cVFaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cvfkB', 'Rapid', 'aquinatense', 1826, 'joony375', 1735, 'e4,e5,Nf3,Nf6,d4,exd4,e5,Qe7,Be2,Ng4,Qxd4,h5,h3,c5,Qc3,Nh6,Bxh6,Rxh6,Nbd2,Nc6,Ne4,b6,Nd6+,Kd8,O-O-O,Re6,Bc4,Nd4,Bxe6', 'Ne2+,Kb1,Nxc3+', 'https://lichess.org/training/cvfkB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cvHoC', 'Blitz', 'extremo2', 2477, 'FM Roland_inho', 2474, 'd4,d6,Nf3,Nf6,c4,g6,Nc3,Bg7,g3,O-O,Bg2,Nbd7,O-O,e5,e4,exd4,Nxd4,Re8,h3,Nc5,Re1,a5,b3,Bd7,Bf4,Bc6,Nd5,Bxd5,exd5,Rxe1+,Qxe1,Nxd5,Bxd5,Bxd4,Rd1,Qf6,Qd2,Bc3,Qe3,Be5,Bg5,Qf5,g4,Qc2,Rd2,Qc1+,Kg2,c6,Bf3,Re8,Qe2,Kg7,h4,Qc3,Be3,Re6,Qd1,Bf6,g5,Be5,Rc2,Qa1,Qxa1,Bxa1,Bg4,Re4,Kh3,Bd4,Bc1,Re1,Kg2,Ne4,f3,Nc3,Bb2,Re2+,Rxe2,Nxe2,Bxd4+,Nxd4,Bc8,b6,Kf2,f6,Ke3,c5,f4,fxg5,hxg5,h5,gxh6+,Kxh6,Ke4,g5,fxg5+,Kxg5,Kd5,Nc2,Kxd6,Nb4,a4,Nd3,Kc6,Nc1,Kxb6,Nxb3,Kb5,Kf4,Be6,Ke5,Bg4,Kd4,Bd1,Nd2,Kxa5,Nxc4+,Kb5,Na3+,Kb6,c4,a5,c3,a6,Nc4+,Kb7,Kc5,a7,Nb6,Bc2,Kb5,Bd3+,Ka5,Kb8,Kb4,Kc7,Ka5', 'Kb7,c2,Bxc2', 'https://lichess.org/training/cvHoC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cvJbS', 'Classical', 'JaMinha', 1624, 'coryhuffer', 1649, 'e4,d5,exd5,Qxd5,Nc3,Qa5,g3,c5,Bg2,Nf6,Nge2,Bg4', 'Bxb7,Qb6,Bxa8', 'https://lichess.org/training/cvJbS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cVjCJ', 'Rapid', 'Kumanda01', 1918, 'theokritos', 1899, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,e6,O-O,c6,Nc3,Qd8,d4,Nf6,Bg5,Be7,Ne5,Bxe2,Nxe2,Nbd7,c3,Qc7,f4,h6,Bh4,c5,Rc1,O-O,Kh1,Nb6,Bxf6,Bxf6,Nf3,Rad8,Qb3,c4,Qc2,Nd5,Qd2,Rfe8,Ne5,Be7,Rf3,Nf6,Ng3,b5,Re1,a5,Qe2,Nd5,a3,Bh4,Kg1,Bxg3,hxg3,Ne7,g4,Nc6,g5,Nxe5,Qxe5,Qxe5,Rxe5,Rd5,gxh6,gxh6,Rh3,Kh7,Rhh5,Red8,Kf2,Kg6,Kf3,Rxe5,Rxe5,Rd5,Ke4,Rxe5+,Kxe5,h5,g3,a4,Ke4,Kf6,Kf3,Kf5,Kg2,Ke4,Kh3,Kd3,f5,exf5', 'd5,Kc2,d6,Kxb2,d7', 'https://lichess.org/training/cVjCJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CVjLc', 'Rapid', 'halheinrich', 1998, 'ByVitaly', 1934, 'b3,d6,Bb2,Nf6,e3,g6,c4,Bg7,d4,O-O,Nf3,Nbd7,Bd3,c5,d5,Nb6,O-O,e6,dxe6,Bxe6,e4,Bg4,h3,Bxf3,Qxf3,Re8,Nc3,a6,Nd5,Nbxd5,exd5,Nd7,Bxg7,Kxg7,Bc2,Ne5,Qc3,Kg8,f4,Nd7,Rae1,Qh4,Kh2,Rxe1,Qxe1,Qxe1,Rxe1,Kf8,h4,Re8,Rxe8+,Kxe8,h5,b5,g4,bxc4,bxc4,gxh5,gxh5,h6,Kg3,Ke7,Kg4,Nf6+,Kh4,Ng8,Bh7,Nf6,Bc2,Kd7,Ba4+,Kc7,Bc6,Kb6,Ba4', 'Ka5,Bb3,Kb4', 'https://lichess.org/training/CVjLc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CvKEz', 'Rapid', 'chess32138', 1894, 'Chessking_27', 1891, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Nc6,Bc4,d6,h3,Nf6,Nf3,Be7,Be3,O-O,O-O,Be6,Qe2,a6,Rfd1,Na5,Bd3,h6,e5,Nd7,exd6,Bxd6,Rac1,Re8,Ne4,Be7,b3,Nc6,Ng3,Bd6,Nh5,Nf6,Nxf6+,Qxf6,Qc2,Ne5,Nxe5,Qxe5,Qd2,Rad8,f4,Qf6,Rf1,Bf5,Bxf5,Qxf5,Qf2,b6,Kh1,Qd3,Bd4,Qe4,Bb2,Bc5,Qg3,Bd4,Bxd4,Rxd4,Rxc7,Red8,Rcc1,Rd3,Qg4,f5,Qg6,Qe2,Rfe1,Qf2,Re7', 'Rd1+,Rxd1,Rxd1+,Kh2,Qxf4+', 'https://lichess.org/training/CvKEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cVLoJ', 'Classical', 'hesham1', 1646, 'tworivers', 1690, 'd4,Nc6,Bf4,d6,d5,Nb8,c4,e5,Bg3,Nf6,Nd2,g6,e4,Bg7,Ngf3,O-O,Be2,Nbd7,b4,a5,a3,b6,Bh4,Bb7,b5,Nc5,Qc2,Qe8,h3,Nh5,Ng5,Nf4,Bf1,h6,Ngf3,g5,Nxg5,hxg5,Bxg5,f6,Bxf4,exf4,Bd3,f5,O-O,Bxa1,Rxa1,fxe4,Nxe4,Nxd3,Qxd3,Qg6,f3,Rf7,Re1,Rh7,Qe2,Rxh3,Nf6+,Kg7,Qe7+,Kh8,Qxc7,Rg3,Ng4,Bc8,Qc6,Rb8', 'Re8+,Kh7,Qc7+', 'https://lichess.org/training/cVLoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CvNFy', 'Rapid', 'KM-student_uj-ac_za', 1896, 'SomethingFischy', 1845, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,c4,c5,cxd5,Qxd5,Be2,Bxf3,Bxf3,Qd7,Qb3,Nc6,O-O,Nxd4,Qxb7,Qxb7,Bxb7,Rb8,Be4,g6,Be3,Bg7,Bxd4,cxd4,Bc6+,Ke7,Nd2,Rxb2,Rfb1,Rxb1+,Rxb1,Bxe5,Rb7+,Kd6,Bf3,Nf6', 'Nc4+,Kc5,Nxe5', 'https://lichess.org/training/CvNFy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cvNJw', 'Blitz', 'CM samidescalona2002', 2522, 'DUENDECILLOH', 2274, 'e4,c5,b4,g6,bxc5,Bg7,d4,e5,c3,d6,cxd6,Qxd6,Nf3,Bg4,Nbd2,a6,h3,Bxf3,Nxf3,exd4,cxd4,Nc6,Be3,Rd8,e5,Nxe5,Nxe5,Bxe5,dxe5,Qxe5,Qc1,Nf6,Be2,O-O,O-O,Nd5,Bf3,Nxe3,Qxe3,Qb8,a4,Rfe8,Qb6,Re6,Qxb7,Qe5,Rac1,Rd4,Rc8+,Kg7,Qb8,Qxb8,Rxb8,Rxa4,Rc1,Rf6,Ra8,Ra2,Ra7,h6,Rc8,Ra1+,Kh2,a5,Kg3,Rf5,Raa8,h5,Rg8+,Kf6,Ra6+,Ke7,Rb8,Ra3,Ra7+,Kf6,Rb6+,Kg7,Rbb7,Ra4,h4,Ra3,Kh2,Kg8,Be4,Rf4,f3,Rxh4+,Kg3,Rxe4,Rxf7,h4+,Kh3,Re6,Rg7+,Kf8,Rh7,Kg8,Rag7+,Kf8,Rb7,Kg8,Rhd7,Re8,Rg7+,Kh8,Rh7+,Kg8,Kxh4,Ra2,g4', 'Rh2+,Kg5,Rxh7', 'https://lichess.org/training/cvNJw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cvoeg', 'Classical', 'chess_is_the_chess', 2048, 'Phantasmic_Invader', 2106, 'c4,e5,Nc3,d6,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,h6,Bxf6,Qxf6,Qxf6,gxf6,Nd5,Kd8,e4,f5,Bd3,fxe4,Bxe4,c6,Ne3,Bg7,O-O-O,Re8,f3,d5,cxd5,Kc7,d6+,Kd8,Nf5,Bf6,Nxh6', 'Bg5+,Kb1,Bxh6', 'https://lichess.org/training/Cvoeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CVPW7', 'Rapid', 'Caiogoia', 1891, 'MVP_CHESS', 1959, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,O-O,Qc7,Bg5,Be7,Qd2,O-O,Rad1,Rd8,Qe3,Nbd7,Qg3,b5,Bxf6,Bxf6,Bg4,Bc4,Rfe1,Nf8,Nd5,Bxd5,Rxd5,Qxc2,Re2,Qb1+,Rd1,Qxa2', 'Ra1,Qxa1+,Nxa1', 'https://lichess.org/training/CVPW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CvPZC', 'Rapid', 'Unknown_Master459', 1993, 'geneRALI72', 1924, 'e4,d5,exd5,Qxd5,Nf3,Nf6,d4,Bg4,Be2,e6,Nc3,Qd8,h3,Bh5,Bf4,Bd6,Be5,O-O,O-O,Bxe5,dxe5,Nd5,Ne4,Bg6,Ng3,c6,Bd3,Qb6,Rb1,Nd7,Bxg6,hxg6,c4,Ne7,Qxd7,Nf5,Nxf5,gxf5,Qd4,Rfd8,Qxb6,axb6,a3,Rd3,Rfd1,Rad8,Rxd3,Rxd3,Kf1,c5,Ke2,Rd7,b4,Kh7,bxc5,bxc5,Rb5,Rc7,Nd2,g5,Nb3,Kg6,Nxc5,f4,Nxb7,Rxc4,Nd6,Ra4,Rb3,f3+,Kxf3,Rf4+,Ke2,g4,hxg4,Rxg4,Kf3,Ra4,g4,f5,exf6,Kxf6,Ne4+,Kg6,Kg3,Rxe4,f4,Ra4,g5,Ra5,Kg4,Ra4,Re3,Kf7,Rf3,Kg6,Re3,Kf7,Rb3,e5,Rb7+,Kg8,Kf5,exf4,Rb4', 'Rxb4,axb4,f3', 'https://lichess.org/training/CvPZC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CVrhb', 'Classical', 'Petrovich1945', 1721, 'Reiepula', 1791, 'd4,e6,e4,Nc6,Nf3,d5,e5,f6,Nh4,fxe5,Qh5+,Kd7,Bb5,a6,Qf7+,Qe7,Bxc6+,Kxc6,Qxe7,Bxe7,Nf3,exd4,Ne5+,Kb6,Nf7,Bb4+,c3,dxc3,bxc3,Ba5,Nxh8,Bd7,Nf7,Bb5,Be3+,c5,Ne5,d4,Bd2,d3,Na3,c4,Naxc4+,Bxc4,Nxc4+,Kb5,Nxa5,Kxa5,Rb1,b5,O-O,Kb6,c4,Nf6,Bc3,Ne4,Bd4+,Kc6,cxb5+,axb5,Rfc1+,Kd5,Bxg7,Rxa2,Rxb5+,Kd6,Rb2,d2,Rd1,Ra7,Bd4,Rc7,f3,Rc1,fxe4', 'Rxd1+,Kf2,Rf1+,Ke3,d1=Q', 'https://lichess.org/training/CVrhb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CvRSY', 'Classical', 'venkata722', 1660, 'laserany', 1842, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Be3,Nbd7,Be2,Ng4,Bf4,e5,dxe5,Ngxe5,O-O,b6,Qd2,Bb7,Nxe5,Bxe5,Bxe5,Nxe5,f3,f5,Rad1,fxe4,fxe4,Rxf1+,Rxf1,Qh4,Rf4,Qe7,Nd5,Bxd5', 'Qxd5+,Kg7,Qxa8', 'https://lichess.org/training/CvRSY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CVSGE', 'Classical', 'thesvsb', 1670, 'joshua_W', 1768, 'e3,Nf6,h3,g6,a3,Bg7,c3,Nc6,g3,e5,Bg2,Ne7,Qb3,d5,d4,Qd6,dxe5,Qxe5,Nf3,Qd6,Nd4,c6,Nd2,O-O,Qc2,a6,N2f3,c5,Ne2,b5,b4,c4,Nfd4,Bb7,Bd2,Rad8,g4,Ne4,Bxe4,dxe4,g5,Nd5,h4,Nc7,O-O-O,Qb6,h5,a5,hxg6,fxg6,Rh2,Bh8,Rdh1,Rf7,Ng3,Re8,Rh4,axb4,cxb4,Bxd4,exd4,Qxd4,Be3,Qd5,Rd1,Qe5,Kb1,Na8,Ne2,Nc7,Bf4,Qe7,Nc3,Ne6,Qc1,Nxf4,Rxf4,Rxf4,Qxf4,Qe5', 'Qxe5,Rxe5,Rd8+,Kf7,Rd7+,Ke6,Rxb7', 'https://lichess.org/training/CVSGE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cvUYA', 'Rapid', 'LuZan26', 1815, 'maximiliano_nahuel', 1730, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qe2,dxc6,Nc3,Be6,Be3,Bxe3,Qxe3,Ne7,Bd3,O-O,e5,Qh6,Qxh6,gxh6,O-O,Kh8,Ne4,Ng6,Nf6,Nxe5,Nxh7,Nxd3', 'Nxf8,Rxf8,cxd3', 'https://lichess.org/training/cvUYA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CvV1u', 'Blitz', 'brute_force', 1791, 'Midnightmover', 1801, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Be7,Nf3,Nf6,Bd3,Bd7,O-O,Nxe4,Bxe4,Bc6,Bxc6+,Nxc6,c3,O-O,Re1,Bf6,Qb3,b6,Bf4,Ne7,Rad1,Nd5,Bg3,Re8,Qc4,Rc8,a4,c5,dxc5,Rxc5,Qg4,Qe7,b4,Rxc3,Rxd5,exd5,Rxe7', 'Rc1+,Ne1,Rxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/CvV1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CVvcW', 'Rapid', 'alipzv', 1699, 'iroda', 1747, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Ng4,cxd4,Bb6,Bxf7+,Kf8,Bg5,Ne7,Bh5,Nxf2,Kxf2,d6,Qb3,g6,Bh6+,Ke8,Ng5,gxh5,Nf7,Bxd4+,Ke2,Bg4+,Kd3,Bf5+,Kxd4,Nc6+,Ke3,Qe7,Nxh8,Qxe5+,Kf2,Qxh8,Re1+,Ne5,Qxb7,Kd7,Qb5+,Kc8,Qa6+,Kd7,Qa4+,c6,Rxe5,Qxe5,Nc3,Qf6,Bf4,Bg4,g3,Qf5,Rc1,Qc5+,Be3', 'Rf8+,Qf4,Rxf4+', 'https://lichess.org/training/CVvcW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CvXfg', 'Rapid', 'Waran4ik', 1609, 'Pedro_Chess', 1705, 'e4,e5,Nf3,Nc6,d4,Bb4+,c3,Ba5,b4,Bb6,dxe5,d6,exd6,Qxd6,Qxd6,cxd6,Bb5,Bd7,Bf4,Bc7,O-O,a6,Bc4,Nf6,Nbd2,O-O,a4,Rfe8,Rfe1,Ne5,Nxe5,dxe5,Be3,Rad8,a5,Ng4,Bc5,Be6,Bxe6,Rxe6,Nf3,Bd6,Bb6,Rc8,Rac1,Bc7,Ng5,Rg6,Nf3,Bxb6,axb6,Rxb6,h3,Nf6,Nxe5,Rb5,f4,Nh5,Rf1,Nxf4,Rxf4,Rxe5,Kf2,h6,h4,g5,hxg5,hxg5,Rg4,f6,Kf3,Kg7,Rg3,b6,Rh3,Ree8,Rhh1,a5,bxa5,bxa5,c4,a4,Ke3,Kf7,c5,a3,Ra1,Ra8,Kd4,Ke6,Rhc1,Red8+,Ke3,Ke5,c6,Rdc8,c7,Kd6,Rc3,Rxc7', 'Rd1+,Ke6,Rxc7', 'https://lichess.org/training/CvXfg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cvYwC', 'Blitz', 'roodian', 2133, 'dinasor', 2046, 'c4,c5,Nc3,Nc6,e4,d6,d3,Nf6,f4,Nd4,Nf3,Nxf3+,Qxf3,e6,Be2,Be7,O-O,O-O,Qg3,Kh8,h3,d5,cxd5,exd5,e5,Ng8,f5,d4,Ne4,Bh4,Qf3,Ne7,g4,Nd5,Nxc5,a6,Ne4,Bd7,Qg2,Bc6,Bf3,Ne3,Bxe3,dxe3,Nd6,Be7,Bxc6,bxc6,Qxc6,Bxd6,exd6,Qh4,Kg2,Rab8,b3,Rbc8,Qf3,Rc2+,Kh1,Rf2,Rxf2,exf2,d7,Rd8,Rc1,Qe7,Rc8', 'Qe1+,Kg2,Qg1#', 'https://lichess.org/training/cvYwC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CVz6K', 'Rapid', 'dulepvc19', 1779, 'jonica321', 1726, 'e4,e5,Bc4,Nf6,Qf3,Bc5,d3,d6,h3,Nc6,c3,O-O,Bg5,Be6,Nd2,Bxc4,Nxc4,b5,Nd2,a5,Ne2,b4,O-O,bxc3,bxc3,Rb8,Rab1,Qe7,Ng3,Rxb1,Rxb1,Rb8,Rxb8+,Nxb8,Nh5,Nbd7,Nb3,Bb6,Nd2,h6,Bxf6,Nxf6,Nxf6+,Qxf6,Qxf6,gxf6,Kf1,Kg7,Nc4,Kg6,Ke2,f5,f3,fxe4,dxe4,f5,Kd3,f4', 'Nxb6,cxb6,Kc4', 'https://lichess.org/training/CVz6K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CvZFG', 'Blitz', 'jdondom', 1609, 'enguerran2211', 1673, 'e4,e6,Nf3,d5,exd5,exd5,d4,c5,dxc5,Nc6,Bf4,Bxc5,Bd3,Qb6,O-O,Qxb2,Nbd2,Qf6,Be3,Bxe3,fxe3,Nge7,Nd4,Qe5,N4f3,Qxe3+,Kh1,O-O,Re1,Qh6,Nb3,Ng6,Nc5,Bg4,Qb1,Rfe8,Rxe8+,Rxe8,Nd2,Qxd2,Qxb7,Nf4,Rg1,Qxg2+,Rxg2', 'Re1+,Bf1,Rxf1+,Rg1,Bf3#', 'https://lichess.org/training/CvZFG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CVzLn', 'Rapid', 'Leva-Zotov-2008', 1947, 'AbhinavBenny', 1958, 'd4,d5,c4,e6,Nf3,Nf6,g3,b6,Bg2,Bb7,O-O,Nbd7,b3,c5,Bb2,h6,e3,Bd6,Re1,Qc7,Nc3,dxc4,Nb5,Qc6,Nxd6+,Qxd6,bxc4,O-O,Ne5,Bxg2,Kxg2,Rac8,dxc5,Qxd1,Raxd1,Nxc5,Ba3,Rfd8,Bxc5,Rxd1,Rxd1,Rxc5,Rd8+,Kh7,Nxf7,Rxc4', 'Rh8+,Kg6,Ne5+', 'https://lichess.org/training/CVzLn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cW04E', 'Rapid', 'harrkar', 2057, 'BrainDra1n', 2089, 'd4,Nf6,Nf3,d6,c4,g6,Nc3,Bg7,e3,O-O,Bd3,Re8,O-O,Nbd7,Re1,c6,e4,e5,d5,c5,Bd2,a6,Rb1,h6,a3,Kh7,b4,b6,b5,a5,a4,Ng8,Qc1,Nf8,Ne2,Bg4,Ng3,Bxf3,gxf3,Qh4,f4,exf4,Bxf4,Be5,Bxe5,Rxe5,f4,Re7,e5,dxe5,fxe5,Rae8,Re4,Qg5,Qxg5,hxg5,Rbe1,Nd7,e6,fxe6,Rxe6,Ne5,Bxg6+,Nxg6,Rxe7+,Rxe7', 'Rxe7+,N6xe7,d6,Nf6,dxe7', 'https://lichess.org/training/cW04E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cw15X', 'Blitz', 'DaArtfulDodger', 1599, 'ABDULLAHAKSU', 1556, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Be3,Nxd4,Bxd4,Qa5,Be2,Nxe4,O-O,Nf6,Bxf6,gxf6,Re1,e5,Ne4,Bf5,Nxf6+,Ke7,Nd5+,Ke6,c4,Rc8,Qb3,b6,Rad1,Rg8,Bf3,Rc5,Be4,Bxe4,Rxe4,a6,Qh3+,f5,Rh4,b5,Rxh7,bxc4,Nc3,Be7,Ne4,Rd5,Rc1,Rg4,Qh6+,Kd7,Nf6+,Kc6,Nxd5,Qxd5,f3,Rd4,Rxe7,Rd2,Qe6', 'Qd4+,Kh1,Rd1+,Rxd1,Qxd1#', 'https://lichess.org/training/Cw15X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cW1x6', 'Rapid', 'Ahmad1112', 1826, 'judii', 1814, 'e4,d6,d4,Nf6,Nc3,e6,Bd3,Be7,Be3,Nbd7,Nf3,b6,h4,c5,d5,exd5,Nxd5,Nxd5,exd5,Nf6,c4,Bg4,Qa4+,Bd7,Qc2,Ng4,O-O-O,Nxe3,fxe3,Bg4,Bxh7,Bxf3,gxf3,Bxh4,Qa4+,Kf8,Be4,Kg8,Rdg1,g5,f4,f6,Bf5,Qe7,Be6+,Kg7,fxg5,fxg5,Qc2,Raf8,Qe4,Rf2,Rxh4', 'Rxh4,Qxh4,Rf1+,Rxf1,gxh4', 'https://lichess.org/training/cW1x6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cW4Qe', 'Rapid', 'Sathyanveshi', 1677, 'marck2018', 1670, 'e4,e5,Qh5,Nf6,Qxe5+,Be7,Bd3,Nc6,Qg3,O-O,Nf3,Bd6,Qg5,h6,Qe3,Be7,O-O,d5,exd5,Nxd5,Qe4,Nf6,Qe1,Bd6,b3,Re8,Qd1,Bg4,Bb2,Nd5,Be2,Nd4,Nxd4,Bxe2,Nxe2,Qh4,Ng3,Nf4,Nf5', 'Ne2+,Kh1,Qxh2#', 'https://lichess.org/training/cW4Qe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CW6nW', 'Rapid', 'Guadamuzo', 2060, 'climbingto2000', 1991, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Nd7,Qe2,Ndf6,d3,Nxe4,dxe4,e5,Nxe5', 'Qa5+,Bd2,Qxe5', 'https://lichess.org/training/CW6nW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cw6VH', 'Blitz', 'Avenger_chess123', 1668, 'PhatomHive', 1638, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,Bd6,Bg3,O-O,Bd3,b6,c3,Ba6,Bc2,c5,Nbd2,cxd4,exd4,Nbd7,Ne5,Rc8,Ndf3,Bxe5,dxe5,Ne4,a4,Qc7,Qd4,Qc4,Bxe4', 'Qe2#', 'https://lichess.org/training/cw6VH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CW7al', 'Rapid', 'Natan078muradV', 1850, 'matheusmn', 1874, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,Qc2,Bxc3+,bxc3,d5,Bd3,Bf5,O-O,O-O,Re1,Re8,Ng5,Qf6,Nxe4,dxe4,Bxe4,Qg6,f3,Bxe4,fxe4,Re7,Ba3,Rd7,Qb3,Na5,Qb5,Qc6,Qxa5,b5,Bc5,a6,Qa3,a5,Qc1,Qg6,Qf4,c6,d5,cxd5,exd5,Rc8,Qe5,h6,d6,Kf8,Qe7+,Rxe7,Rxe7,Rxc5,Rae1,f5', 'd7,Qb6,Re8+', 'https://lichess.org/training/CW7al');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CWAHF', 'Rapid', 'lurtrester', 2051, 'Lucius-Lukjanenko', 2113, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Ne2,Bf5,Nc3,Qd6,d4,c6,Be3,e6,Qd2,Be7,h3,h6,g4,Bh7,Bg2,Na6,Ne4,Qd8,c3,Nc7,O-O-O,Nd5,Rdf1,Nxe3,fxe3,Qa5,a3,Rd8,Qf2,f5,gxf5,exf5,Ng3,Bh4,Qf3,O-O,Ne2,Rde8,Nf4,Bg5,h4,Bd8,Rfg1,Qc7,Bf1,b5,Rg3,Qe7,Nh5,f4', 'Rxg7+,Qxg7,Nxg7', 'https://lichess.org/training/CWAHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cwaWl', 'Blitz', 'FM MaurizioBrancaleoni', 2365, 'cool_chess', 2034, 'Nc3,d5,e4,d4,Nce2,e5,Ng3,f6,Bc4,Bd6,d3,Qe7,f4,Be6,N1e2,Nd7,Bb3,O-O-O,O-O,h6,Nf5,Bxf5,exf5,Kb8,Ng3,Nc5,Ne4,Qd7,Nxc5,Bxc5,Be6,Qc6,Qf3,Qxf3,Rxf3,Ne7,fxe5,fxe5,f6,gxf6,Rxf6,Rdf8,Rxh6', 'Rxh6,Bxh6,Rf6', 'https://lichess.org/training/cwaWl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWBgF', 'Rapid', 'Tigtre66', 1992, 'loqash', 1928, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,O-O,Qg4,f5,Qg3,Bxg5,hxg5,g6,O-O-O,Rf7,f4,a6,Nf3,c5,Nxd5,exd5,e6,Re7,exd7,Nxd7,dxc5,Nxc5,Bc4,Be6,Kb1,Ne4,Qh4,Qc7,Bxd5,Bxd5,Rxd5,Qb6,Ka1,Rc7,Ne5,Qe6,Rhd1,Re8,Nd7,Rxc2,Nf6+,Nxf6,gxf6,Qxd5,Rh1,Rxg2', 'Qxh7+,Kf8,Qg7#', 'https://lichess.org/training/cWBgF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CwBhs', 'Classical', 'humb', 1890, 'vega_chess', 1890, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d5,c3,Nbd7,e3,c5,a3,cxd4,exd4,Ne4,Nbd2,Ndf6,Nxe4,Nxe4,Nd2,Nf6,Nb3,Bf5,Nc5,Qc7,Bf4,Qc8,Qb3,b6,Nd3,Bxd3,Rfd1,Qc4,Qb4,Qxb4,axb4,Be4,f3,Bf5,g4,Bc2,Rd2,Bb3,Ra3,Bc4,b3,Bb5,g5,Nd7,h4,f6,Ra1,f5,Re1,Rfe8,Be3,e5,dxe5,Bc6,f4,Nf8,c4,a5,b5,Bb7,Bxb6,a4,bxa4,Rxa4,cxd5,Rxf4,d6,Bxg2,Kxg2,Nd7', 'e6,Nxb6,d7,Nxd7,exd7,Rxe1,d8=Q+', 'https://lichess.org/training/CwBhs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cwbRR', 'Classical', 'M_Shahbazrizvi', 1843, 'JoanGarciaNogueras', 1964, 'd4,Nf6,f4,g6,e3,Bg7,Bd3,d6,c3,Nc6,Nf3,O-O,O-O,Bg4,h3,Be6,g4,Qd7,Ng5,Rad8,f5,gxf5,gxf5,Bh6,e4,Bxg5,Bxg5,Nxe4,Bxe4,Bc4,Qg4,Kh8,f6,Qxg4+,hxg4,Bxf1,Kxf1,exf6,Bxf6+,Kg8,g5,Rfe8,Nd2,Rc8,Kf2,Ne7,Bxb7,Rb8,Ba6,Rxb2,Ke3,Nd5+,Kd3,Nf4+,Kc4,Rxd2,Bb5,Re6,Bd7,d5+,Kc5,Rd6,Bf5,Nd3+,Kb5,Rb2+,Ka5,Nf4,Be5,Rbb6,Bxf4', 'Ra6+,Kb4,Rdb6+,Kc5,Ra5#', 'https://lichess.org/training/cwbRR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cwcal', 'Classical', 'bukasha-murashevna', 2257, 'osama98765', 2147, 'e4,c5,c3,d6,Nf3,Nf6,e5,dxe5,Nxe5,e6,d4,cxd4,cxd4,Bb4+,Nc3,O-O,Bd3,Nbd7,Nxd7,Bxd7,O-O,Bc6,Bg5,Bxc3,bxc3', 'Qd5,f3,Qxg5', 'https://lichess.org/training/Cwcal');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CWCQm', 'Blitz', 'Hamzahnab', 1785, 'apostrov13', 1793, 'c4,e5,g3,a6,Bg2,Bc5,Nc3,d6,e3,Nc6,Nf3,Bg4,O-O,h5,h3,Be6,d4,Qd7,dxc5,Bxh3,cxd6,O-O-O,c5,Bxg2,Kxg2,g5,Rh1,h4,Nd5,h3+,Kh2,g4,Ng1,Qf5,Qf3,Nh6,Qxf5+,Nxf5,f3,gxf3,Nxf3,Rdg8,e4,Rxg3,Rf1', 'Rg2+,Kh1,Ng3#', 'https://lichess.org/training/CWCQm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cwCR7', 'Rapid', 'juancabarcas', 1779, 'notConcentrated', 1882, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Nc3,Bd6,Bd3,O-O,O-O,Bg4,Bg5,c6,Re1,Nbd7,Rc1,Qb6,Na4,Qc7,b3,Bxf3,Qxf3,Bxh2+,Kf1,Bd6,Bf5,Ne8,Qg4,Nb6,Re3,f6,Bxh7+', 'Kxh7,Rh3+,Kg8', 'https://lichess.org/training/cwCR7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CWCTD', 'Classical', 'AlwaysDizzy', 1829, 'heidarkhalife', 1708, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,Bb5+,Nc6,Ndf3', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/CWCTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cwdEW', 'Rapid', 'esalahshoor', 1783, 'lebrunng', 1857, 'e4,c5,Nf3,d6,g3,Nf6,Nc3,a6,Bg2,Nc6,O-O,e6,Re1,Qc7,d3,Be7,b3,Bd7,Bb2,O-O,d4,cxd4,Nxd4,e5,Nf5,Bxf5,exf5,Rac8,Ne4,Rcd8,Qf3,d5,Nxf6+,Bxf6,Rad1', 'e4,Bxf6,exf3', 'https://lichess.org/training/cwdEW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cwFhH', 'Rapid', 'milanmyska', 1663, 'Roborob', 1616, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,d3,Be7,Ne4,O-O,Qh5,Nf4,Bxf4,exf4,h4,Nd4,Ng5,Bxg5,hxg5,Nxc2+,Kd1,Nxa1', 'Qxh7#', 'https://lichess.org/training/cwFhH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWh3M', 'Rapid', 'coffeehouseplayer', 1880, 'Hartum', 2006, 'e4,c6,d4,d5,f3,Qb6,Nc3,e5,exd5,exd4,Ne4,cxd5,Nf2,Bb4+,Bd2,Nf6,Bd3,O-O,Ne2,Bxd2+,Qxd2,Qxb2,O-O,Qb6,Nxd4,Nc6,c3,Nxd4,cxd4,Kh8,Bc2,Be6,Rab1,Qc6,Rfc1,h6,Nd3,b6,Ne5,Qd6,Qf2,Rac8,Qg3,Qe7,Qh4,Rfe8,g4,Nd7,Qh5,Nxe5,Qxe5,Qc7,Qe2,Bxg4,Qd3,g6,fxg4,Qf4,Qg3,Qxd4+,Kh1,Re2,Bd3,Rxc1+,Rxc1,Re8,Bb1,Kg7,Qc3', 'Qxc3,Rxc3,Re1+,Kg2,Rxb1', 'https://lichess.org/training/cWh3M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cwHTs', 'Rapid', 'erdem_danzanov_68', 1658, 'nfdisco', 1699, 'e4,c5,Nf3,Nc6,Be2,g6,c3,Bg7,d4,cxd4,cxd4,d6,Nc3,Nf6,Be3,O-O,h3,a6,O-O,b5,Bd3,Bb7,d5,Nb8,Qd2,Nbd7,Nh2,Nc5,Bc2,Rc8,Rac1,b4,Ne2,a5,b3,Ncxe4,Bxe4,Nxe4,Qd3,Nf6,Nf4,Nd7,Nf3,Ne5,Nxe5,Bxe5,Ne2,Rxc1,Rxc1,Qa8,Rd1,Ba6,Qd2,Rc8,Rc1,Rxc1+,Nxc1,Bc3,Qd1,Bb7,Ne2,Be5,Bg5,f6,Be3,Bxd5,f3,f5,Qc2,Bxf3,gxf3,Qxf3,Bb6,Qxh3,Bxa5,Qh2+,Kf1,Bd4,Nxd4,Qf4+,Qf2,Qc1+,Kg2,e5,Nb5,Qc6+,Kf1', 'Qxb5+,Qe2,Qxa5', 'https://lichess.org/training/cwHTs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWi74', 'Blitz', 'IAmAmadeus', 2561, 'FM InfamousOne', 2570, 'e4,c6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Nc6,Bb5,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,e6,c4,Ne7,Nc3,Ng6,f4,Bc5+,Kh1,O-O,cxd5,cxd5,f5,Nxe5,Qe2,f6,fxe6,Qd6,Bf4,Qxe6,Rad1,Rad8,Qb5,Qb6,Qxb6,axb6,Nxd5,Rfe8,Bxe5,Rxe5', 'Nxf6+,gxf6,Rxd8+', 'https://lichess.org/training/cWi74');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWiO7', 'Rapid', 'future-trunks', 1739, 'chessmaster7', 1669, 'd4,d5,Bf4,Nc6,Nf3,Bf5,e3,e6,c3,Nf6,Bd3,Bxd3,Qxd3,Ne4,Nbd2,Nxd2,Nxd2,Bd6,Bg3,Qg5,O-O-O,O-O-O,Nf3,Qe7,Bh4,f6,Bg3,a5,e4,dxe4,Qxe4,h6,d5,exd5,Qxd5', 'Bf4+,Bxf4,Rxd5', 'https://lichess.org/training/cWiO7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWJFv', 'Rapid', 'lonely_pawn79', 2066, 'ynikitin', 2137, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,O-O,e3,Nbd7,Be2,h6,Bh4,b6,O-O,Bb7,a3,c5,b4,cxb4,axb4,dxc4,Bxc4,Bxb4,Rc1,Be7,Bd3,Rc8,Qe2,Nd5,Bxe7,Qxe7,Ne4,Nb4,Bb1,Ba6,Qd2,Bxf1,Kxf1,Rxc1+,Qxc1,f5,Ng3,Nf6,Ne5,Qb7,Qc4,Nbd5,e4,Rc8,Qb5,Nc3,Qb3,Qe7,Nxf5,Qe8,Nd6,Nxb1,Nxe8', 'Nd2+,Ke2,Nxb3', 'https://lichess.org/training/cWJFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CwK46', 'Rapid', 'abotaher', 2101, 'DrSergey', 2049, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,c6,Nf3,Nbd7,Bd3,O-O,O-O,dxc4,Bxc4,b5,Bd3,Bb7,Rc1,a6,Bb1,c5,Ne5,cxd4,exd4,Nd5,Bxe7,Qxe7,Nxd7,Qxd7,f4,Ne3,Qd3,Nf5,Rcd1,Rfd8,d5,Bxd5,Nxd5,Qxd5', 'Qxd5,exd5,Bxf5', 'https://lichess.org/training/CwK46');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CWkBN', 'Blitz', 'kirinjcallinan', 1749, 'MrKhaledAbdallah', 1765, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Nge7,O-O,a6,c3,g6,Bg5,Bg7,Re1,O-O,Nf3,Re8,e5,Qb6,b3,Qc5,Bf6,Nf5,Nbd2,d6,Ne4,Qa3,exd6,Nxd6,Bxg7,Nxe4,Rxe4,Kxg7,Ng5,h6,Nf3,Qf8,h4,b5,Bd3,Bb7,Rg4,h5,Rg5,Ne7,Ne5,Nf5,Qxh5,Qh8,Rxg6+,fxg6', 'Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/CWkBN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cwL5H', 'Blitz', 'adrk2', 2047, 'AbelardoCastillo', 2090, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d5,g3,O-O,Bg2,c5,O-O,cxd4,Nxd4,dxc4,Ndb5,Nc6,Bf4,e5,Bg5,Be6,Bxf6,Bxf6,Bxc6,Qxd1,Raxd1,bxc6,Nc7,Rab8,Nxe6,fxe6,Na4,Rb4,b3,cxb3,axb3,Rxb3,Rd7,Rf7,Rfd1,e4,Nc5,Rb2,Nxe6,Rxe2', 'Rd8+,Bxd8,Rxd8+,Rf8,Rxf8#', 'https://lichess.org/training/cwL5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CWMPH', 'Blitz', 'amused85', 2006, 'EneSalim', 2014, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Nc3,Bb4,Qf3,d5,exd5,cxd5,O-O,Bxc3,bxc3,Bg4,Bb5+,Bd7,Bxd7+,Qxd7,Bg5,Ne4,Bh4,O-O,Rfd1,Qe6,c4,g5,cxd5,Qg6,Bg3,Nxg3,Qxg3,e4,c4,f5,c5,Rac8,c6,Rfd8,Qb3,Qd6,g3,f4,Qb7,Rc7,Qb3,f3,Qe3,Re8,Qxg5+,Kh8,h4,Rg8,Qf5,Rxg3+,fxg3', 'Qxg3+,Kf1,Qg2+,Ke1,Qe2#', 'https://lichess.org/training/CWMPH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWngn', 'Classical', 'EV-Beck', 1765, 'thejens04', 1739, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e6,Be3,Be7,Qd2,b5,g4,Bb7,O-O-O,Qc7,g5,Nfd7,h4,Nb6,f4,b4,Nce2,Bxe4,Rh3,e5,fxe5,dxe5,Ng3,exd4,Bf4,Qc6,Nxe4,Qxe4,Bg2,Qe6,Re1,Qd7,Qxb4,O-O,Rxe7,Qg4,Bxa8,Qxh3,Re1,Nxa8', 'Qxf8+,Kxf8,Bd6+,Kg8,Re8#', 'https://lichess.org/training/cWngn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CWNh7', 'Rapid', 'And08__06', 1836, 'paulobrizolachess', 1915, 'e4,e6,Nf3,d5,exd5,exd5,Bb5+,c6,Ba4,Nf6,h3,Bd6,O-O,O-O,d3,h6,Nc3,Re8,a3,Nbd7,Nh4,Nb6,Bb3,d4,Ne2,c5,Nf4,g5,Nfg6,gxh4,Nxh4,Nfd5,Qh5,Qf6,Bxh6,Bf4,Bxf4,Nxf4,Bxf7+,Qxf7,Qg5+,Kh7,Nf3,Rg8,Qe5,Nxh3+,Kh1,Nf4,g3,Ng6', 'Ng5+,Kh6,Nxf7+', 'https://lichess.org/training/CWNh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWNWP', 'Rapid', 'freeman25', 2138, 'dik-lak', 1700, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,d4,Bg4,Bb5+,Nbd7,O-O,Nxd5,Re1+,Be7,c4,Ne3,Bxe3,fxe3,Rxe3,O-O,Nc3,c6,Ba4,Nb6,Bb3,Bf6,c5,Bxd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/cWNWP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWoNs', 'Rapid', 'bifferspice', 1863, 'Puxeng', 1787, 'e4,c5,f4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Nc6,Bb5,Bd7,O-O,Qb6,Be3,a6,dxc5', 'Bxc5,Bxc5,Qxc5+', 'https://lichess.org/training/cWoNs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cwOTT', 'Classical', 'grrrrenouille', 2205, 'dadi1356', 2252, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Ne2,Re8,Qc2,h5,Be3,Nd7,O-O-O,Nf8,Ng3,g6,Ne4,Be7,h4,f5,Ng5,b5,Rhe1,Nh7,Bf4,Nxg5,hxg5,Bxg5', 'Rxe8+,Qxe8,Bxg5', 'https://lichess.org/training/cwOTT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CWpcc', 'Rapid', 'cosifan', 1773, 'emiliomatos', 1808, 'e4,e6,d4,d5,e5,c5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,cxd4,Qxd4,Ne7,O-O,Nc6,Qa4,Qc7,Re1,Bc5,c3,O-O,Qf4,Ncxe5,Nxe5,Nxe5', 'Qxe5,Qxe5,Rxe5', 'https://lichess.org/training/CWpcc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CWppJ', 'Rapid', 'lamine2000', 1855, 'JAM_O', 1883, 'Nf3,Nf6,d4,g6,Bf4,d6,Nbd2,c6,c4,Bg7,e3,Nh5,Bg5,Bg4,h3,Bxf3,Qxf3,O-O,Bd3,Nd7,O-O,f5,Rfe1,Nhf6,Qf4,e5,Qh4,e4,Bc2,d5,cxd5,cxd5,Bb3,Qa5,Red1,Rac8,a3,Qa6,Rac1,Rxc1,Rxc1,Qe2,Rc2,Nh5,Nxe4,Qe1+,Kh2,fxe4,Bxd5+,Kh8,Bxe4,Ndf6,Bxb7,Qd1,Rc7,Qd3,g4,Ne8,Rc3,Qf1,Bg2', 'Rxf2,Qxf2,Qxf2', 'https://lichess.org/training/CWppJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CwQpf', 'Blitz', 'Toprakozlu', 1753, 'Murch', 1756, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,Nf3,Bf5,d4,Nf6,Nc3,e6,Bg5,Be7,Qd2,O-O,h3,Ne4,Nxe4,Bxe4,Bxe7,Qxe7,O-O-O,a5,a4,Rfb8,Ng5,Bg6,h4,h6,Nf3,b5,g4,bxa4,Bxa4,Nb4,g5,Be4,Qe3,Rc8,Rd2,Rc4,gxh6,Na2+,Kb1,Rxa4,hxg7,Bxf3,Qh6,f5,Qh8+,Kf7,Rg1,Rxh8,gxh8=Q', 'Nc3+,bxc3,Qb7+,Kc1,Ra1#', 'https://lichess.org/training/CwQpf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CWR6V', 'Rapid', 'captmj1896', 1845, 'WolfgangPerg1', 1908, 'd4,d5,e3,c6,Nf3,Nf6,Bd3,Bg4,h3,Bh5,O-O,e6,Nbd2,Bd6,e4,dxe4,Bxe4,Nxe4,Nxe4,Bc7,Qd3,Bg6,Ne5,Qd5,Nxg6,hxg6,Ng5,Nd7,c4,Qd6,g3,Nf6,Bf4,Qd7,Bxc7,Qxc7,Rae1,O-O-O,b4,Rh5,h4,e5,Rxe5', 'Qxe5,dxe5,Rxd3,exf6,gxf6', 'https://lichess.org/training/CWR6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CWrgC', 'Blitz', 'emmanuelking', 2239, 'IM DeandraChess', 2324, 'd4,d5,Nf3,c6,e3,Nf6,Be2,Bg4,O-O,e6,Ne5,Bxe2,Qxe2,Nbd7,f4,c5,c3,Bd6,Nd2,O-O,e4,Nxe4,Nxe4,dxe4,Qxe4,cxd4,cxd4,Nf6,Qxb7,Nd5,Qb3,Rb8,Qf3,Qb6,Qf2,Rfd8,b3,Rbc8,Nc4,Qc7,Nxd6,Rxd6,f5,Qc3,Ba3,Rdc6,fxe6,f6,Rac1,Qa5,Rxc6,Rxc6,e7,Re6,Qf5,Kf7,Bc5,Nxe7,Qxh7,Qxa2,Qh5+,Ng6,Qf5,Qxb3,h3,Qb2,Rf2,Qa1+,Kh2,a5,Qd5,Qe1,Qf5,Qa1,d5,Re5,Qd7+,Kg8,d6,Rxc5,Qe6+,Kh7,d7,Qd1,h4,Re5,Qe8,Qd6', 'd8=Q,Rxe8+,Qxd6', 'https://lichess.org/training/CWrgC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWS4j', 'Rapid', 'yelamos', 1746, 'si_lenter', 1757, 'f4,d5,g3,f5,Bg2,Nf6,Nf3,Nbd7,O-O,c5,c3,b6,d4,Bb7,e3,e6,Ne5,Nxe5,fxe5,Ng4,h3,h5,hxg4,hxg4,Nd2,Qg5,e4,Qe3+,Rf2,Qxg3,Nf1,Rh1+,Kxh1,Qxf2,exf5,Be7,Qxg4,O-O-O,f6,gxf6,Qxe6+,Kb8,Qxe7,Rh8+,Nh2', 'Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/cWS4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWSrj', 'Rapid', 'naikdevidas68', 1854, 'Anarchocommunist-PL', 1740, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nf6,Bd3,e6,Bxh7,Nxh7,O-O,Bd6,Ne5,Qc7,f4,O-O,Ne4,Nd7,Nxd6,Qxd6,c3,Nhf6,Be3,Nd5,Qd2,N7f6,f5,Ne4,Qe1,f6,Ng6,Rf7,Bxh6,exf5,Rxf5,Ng3,Rf3,Nxh5,Bd2,Kh7,Qh4,Kxg6,g4,Nhf4', 'Bxf4,Nxf4,Rxf4,Qd5,Rf5,Qxf5,gxf5+', 'https://lichess.org/training/cWSrj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWta4', 'Classical', 'Superman89', 2028, 'HAYOUR', 1910, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Ne2,c5,d5,exd5,cxd5,d6,a3,Qa5,Bd2,Bxc3,Bxc3,Qd8,g3,Ne4,Bg2,Nxc3,bxc3,Bg4,f3,Bh5,h4,f5,Nf4,Bf7,c4,Nd7,O-O,Re8,Qb3,b6,Rae1,g5,hxg5,Qxg5,Kf2,Ne5,Nd3,Nxd3+,Qxd3,Bg6,f4,Qf6,e4,fxe4,Bxe4,Rxe4,Rxe4,Bxe4,Qxe4,Qb2+,Kf3,Qxa3+,Kg4,Qc3,Qe6+,Kh8,Rf3,Rg8+', 'Qxg8+,Kxg8,Rxc3', 'https://lichess.org/training/cWta4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWUlG', 'Blitz', 'IM ElisabethPaehtz85', 2416, 'SHEFFFF', 2420, 'd4,c5,d5,g6,Nc3,Bg7,e4,e6,Nf3,exd5,exd5,Nf6,Qe2+,Kf8,Qc4,d6,Be3,a6,a4,Nbd7,a5,h6,Bd3,b5,axb6,Nxb6,Qa2,Bb7,Bc4,Ng4,O-O,Nxe3,fxe3,Nd7,Nd2,Qg5,Rf4,Be5,h4,Qg3,Raf1,Qxe3+,R4f2,Bg3,Nde4,Bxf2+,Rxf2,Ne5,Nxd6,Ng4,Nce4,Kg7,Qa5,Nxf2,Nxf2,Qe7,Qxc5,Rab8', 'Nf5+,gxf5,Qxe7', 'https://lichess.org/training/cWUlG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWuo8', 'Blitz', 'beastoflagos', 2342, 'Kvaidan', 2173, 'Nf3,g6,e4,Bg7,c4,d6,d4,Nd7,Nc3,b6,Be3,Bb7,g3,e6,Bg2,Ne7,h4,h6,Qd2,Nf6,Nh2,Nf5,exf5,Bxg2,Rg1,Bb7,fxg6,fxg6,Qd3,Kf7,O-O-O,Re8,g4,e5,h5,g5,Qg6+,Kg8,dxe5,Rxe5,Bd4,Re6,Rge1,Rxe1,Rxe1,c5,Bxf6,Qxf6,Re6,Qf4+,Kc2,Rf8,Re7,Rf7,Qe6,Bxc3', 'Re8+,Kg7,Qg6#', 'https://lichess.org/training/cWuo8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CWUTB', 'Blitz', 'Slowhand73', 2204, 'vacavieja', 2242, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Rg1,e5,Nb3,h5,Bg5,Be6,Qd2,Nbd7,O-O-O,Be7,Kb1,b5,f3,b4,Na4,Qc7,Qxb4,d5,Qa5,Qc6,exd5,Nxd5,Bxe7,Kxe7,Nac5,Rac8,c4,Nxc5,cxd5,Nxb3,Qa3+,Qc5,Qxb3,Bxd5,Qxd5', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/CWUTB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CwVoQ', 'Blitz', 'PauloCardoso', 1551, 'swansondog', 1598, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Bb5+,Bd7,Qd3,e5,Nc3,Nf6,Nd5,Nxd5,Qxd5', 'Qa5+,Bd2,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/CwVoQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cWvts', 'Blitz', 'NM chessiah', 2476, 'Mileia', 1880, 'Nf3,g6,c4,Bg7,Nc3,d6,d4,Nd7,e3,Ngf6,Qc2,O-O,Be2,c5,O-O,a6,b3,e5,dxc5,Nxc5,Bb2,Bf5,Qd1,Qe7,Rc1,Rad8,b4,Nce4,Nd5,Nxd5,Qxd5,h6,Rfd1,g5,h3,Nf6,Qa5,g4,Nh4,Be6,hxg4,Nxg4,g3,Qf6,Rf1,Qg5,f4,Qe7,f5,Nxe3,fxe6,Nxf1,exf7+,Rxf7,Rxf1,Qg5,Rxf7,Kxf7,Qd5+,Kf8,Kg2,Rd7,Bc3,e4,Qxg5,hxg5,Bxg7+,Kxg7,Nf5+,Kf6,Bg4,Rd8,Kf2,d5,Ke3,dxc4,Kxe4,c3,Ne3,b5,Bd1', 'Rxd1,Nxd1,c2', 'https://lichess.org/training/cWvts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cwWDA', 'Rapid', 'fselpo', 1645, 'vimots', 1652, 'd4,d5,Nf3,Nc6,c3,Bf5,e3,Nf6,Nbd2,e6,Be2,Bd6,Nh4,Be4,Nxe4,Nxe4,Nf3,Ne7,Bd3,Nf6,O-O,Ng4,h3,Nf6,Re1,Qd7,Ng5,h6,Nf3,g5,Qb3,O-O-O,c4,g4,hxg4,Nxg4', 'c5,Bxc5,dxc5', 'https://lichess.org/training/cwWDA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cwwfj', 'Rapid', 'Rickiboulous1', 2088, 'medenjak', 2119, 'd4,d5,Nf3,Nf6,g3,e6,Bg2,Be7,O-O,O-O,b3,c5,Ba3,cxd4,Bxe7,Qxe7,Nxd4,Bd7,Nd2,e5,N4f3,Nc6,e3,Bg4,Qc1,Rac8,Qb2,Rfe8,c4,e4,Ng5,Nb4,cxd5,Rc2,Qd4,Rxd2,Qxd2,h6,a3,Nbxd5,Nxe4,Rd8,Nxf6+,Nxf6,Qc2,g6,Rfc1,Bf5,Qc7', 'Rd1+,Rxd1,Qxc7', 'https://lichess.org/training/Cwwfj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cwxis', 'Rapid', 'indigenousTal', 1780, 'ARTUR1982', 1708, 'c4,c5,Nf3,Nc6,e3,e5,d4,cxd4,exd4,exd4,Nxd4,Nxd4,Qxd4,Bb4+,Bd2,Qe7+,Be2,Bxd2+,Nxd2,Nf6,Qd3,O-O,O-O,d6,Bf3,Be6,Rfe1,Qd7,b3,Rab8,Ne4,Nxe4,Bxe4,g6,Bd5,b6,a4,Rbe8,Qf3,Bxd5,Qxd5,Re6,Rad1,Rxe1+,Rxe1,Rc8,h3,a6,Re3,a5,Rd3,Rd8,Qb5,Qxb5,axb5,Kf8,Re3,f6,Kf1,Kf7,g4,Rc8,Ke2,Rc5,Kd3,Re5,Kd4,Rxe3,fxe3,Ke6,e4,h6,h4,g5,h5,Kd7', 'Kd5,Ke7,Kc6', 'https://lichess.org/training/cwxis');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CwZLP', 'Blitz', 'vladikvladik2038', 1776, 'opto00', 1779, 'e4,e5,f4,exf4,Nf3,g5,Bc4,h6,O-O,Bg7,d4,Nf6,Ne5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,e5,Nd5,c4,Nb6,Qb3,d5,Nd2,Be6,c5,Nc4,Nxc4,dxc4,Qf3,Qxd4+,Be3,Qxe5,Rae1,Kg8,Qxb7,fxe3,Qxa8,Qxb2,Rb1,Qd4,Qxb8+,Kh7,Rbd1,e2+,Rxd4', 'Bxd4+,Kh1,exf1=Q#', 'https://lichess.org/training/CwZLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cx0qV', 'Classical', 'chuckymm', 2125, 'Dushechca', 2249, 'Nf3,Nf6,g3,g6,Bg2,Bg7,c4,O-O,Nc3,d6,d4,Nc6,O-O,a6,e3,Rb8,Qe2,Bd7,b3,e5,Bb2,exd4,exd4,Re8,Qd2,b5,Rfe1,bxc4,bxc4,Na5,Bf1,Bg4,Nh4,Qd7,Rxe8+,Nxe8,Nd5,Nc6,Bc3,Nf6,Ne3,Bh3,Bd3,Ng4,Be4,Re8,Bh1,Bh6,Re1,Ne7,Qd1,Nxe3,fxe3,Nf5,Nxf5,Bxf5,e4,Bg4,Qd3,Bg7,Bg2,c5,dxc5,dxc5,Qxd7,Bxd7,e5,Be6,Bd5,Rd8,Rd1,Kf8,Kf2,Ke7,Rd2,Rd7,Ke2,f6,exf6+,Bxf6,Bxf6+,Kxf6,Ke3,Bxd5,Rxd5', 'Rxd5,cxd5,Ke5', 'https://lichess.org/training/Cx0qV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cX33L', 'Rapid', 'Timbo23', 1958, 'Mohamedaissou', 1973, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,Nf6,Nc3,d6,Bc4,Be6,Bb5+,Bd7,Qe2,a6,Bxd7+,Qxd7,O-O,Be7,Re1,O-O,Nd5,Nxd5,exd5,Bf6,Rb1,Rfe8,Qd2,Bg5,f4,Bxf4', 'Rxe8+,Rxe8,Qxf4,Re1+,Kf2', 'https://lichess.org/training/cX33L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cX5DN', 'Rapid', 'szachzuk', 2042, 'HungryGreyWolf', 1925, 'd4,d5,c4,dxc4,e4,Nc6,Be3,Nf6,Nc3,e5,d5,Ne7,Bxc4,Ng6,Nge2,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/cX5DN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CX5j9', 'Rapid', 'eric_w', 1794, 'Sfide_Mentali', 1941, 'e4,e5,f4,d5,exd5,e4,d3,Bf5,dxe4,Bxe4,Nc3,Nf6,Qe2,Qe7,Nxe4,Qxe4,Qxe4+,Nxe4,Nf3,Bb4+,c3,Bc5,Bd3,Nf2,Bb5+,c6,dxc6,bxc6,Rf1,cxb5,Rxf2,Bxf2+,Kxf2,O-O,Ne5,a5,Be3,Na6,Bd4,Rac8,g4,Rfd8,g5,b4,Re1,bxc3,bxc3,Nc5,Rb1,f6,gxf6,gxf6,Ng4,f5,Nf6+,Kf7,Nxh7,Ne4+,Ke3,Nxc3,Rb7+,Kg6,Rg7+,Kh6,Ng5,Nd5+,Kf3,Nxf4,Nf7+,Kh5,Rg5+,Kh4,Bf2+,Kh3,Rg3+,Kxh2,Nxd8,Nd3,Rg2+,Kh3,Rg3+,Kh4,Ne6,Nxf2,Kxf2', 'Rc2+,Kf3,Rc3+', 'https://lichess.org/training/CX5j9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cX6bN', 'Rapid', 'alphamarshan', 1921, 'liamwheen', 1881, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e5,d5,Bc5,h3,Qd6,Bxc4,Qb6,Qc2,Na6,Bxa6,Qxa6,Nge2,Bd7,Bg5,O-O-O,O-O,h6,Bh4,Rhg8,Kh1,g5,Bg3,g4,hxg4,Nxg4,Bxe5,Nxf2+,Rxf2,Bxf2,Nb5,c6,Nd6+,Kb8,Nxf7+,Kc8,Nxd8,Kxd8,dxc6,Qxc6,Qxc6,Bxc6,Rd1+,Ke8,Nc3,Rg4,Rd2', 'Rh4+,Bh2,Bg3', 'https://lichess.org/training/cX6bN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cXaBe', 'Rapid', 'Icedcapp', 1989, 'angryfeminist', 1907, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,Qb6,Na3,Nge7,Rb1,cxd4,cxd4,Nf5,Bb5,Bxa3,Bxc6+,bxc6,O-O,Be7,Bf4,O-O,a3,f6,g4,fxe5,Nxe5,Nd6,Bg3,Ne4,Kg2,Bf6,f3,Nxg3,hxg3,Bxe5,dxe5,Ba6,Rh1,Qe3,Re1,Qb6,Qc2,c5,Rh1,g6,Rh6,Rf7,Rbh1,c4,Qxg6+,hxg6', 'Rh8+,Kg7,R1h7#', 'https://lichess.org/training/cXaBe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXBMQ', 'Blitz', 'Odysseus_in_space', 1960, 'Serkan_Candan', 2001, 'd4,Nf6,c4,d5,Nc3,e6,Nf3,Bb4,Bg5,Bxc3+,bxc3,h6,Bh4,Nbd7,Bg3,c6,e3,Qa5,Qc2,Ne4,Rc1,Ndf6,Bd3,O-O,Ne5,a6,Bh4,b5,Bxf6,Nxf6,cxd5,cxd5,O-O,Bb7,e4,dxe4,Be2,Rac8,Qb3,Nd5,c4,bxc4,Nxc4,Nf4', 'Nxa5,Nxe2+,Kh1,Rxc1,Rxc1', 'https://lichess.org/training/CXBMQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXCAE', 'Blitz', 'JonJacquesLeSac', 1646, 'Nahuelito84', 1647, 'd4,Nf6,c4,d5,Nc3,Bg4,h3,Bh5,g4,Bg6,f4,h5,f5,Bh7,Bg2,Nc6,cxd5,Nb4,a3,Nbxd5,Qa4+,c6,Nf3,Nxc3,bxc3,e6,fxe6,fxe6,Ne5,Bd6,Bf4,O-O,O-O,b5,Qb3,c5,Qxe6+,Kh8,Nf7+,Rxf7,Qxf7,cxd4,Bxd6,Qxd6,cxd4,Qxd4+,Kh1,Re8,Rad1,Qe5,g5,Be4,gxf6,Bxg2+,Kxg2,Qg5+,Kh2', 'Rxe2+,Rf2,Rxf2+,Kh1,Qg2#', 'https://lichess.org/training/CXCAE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXCDO', 'Classical', 'ETAOIboiz', 1793, 'rokita', 1764, 'd4,e6,c4,c5,d5,e5,e4,a5,a4,Na6,Nc3,Nf6,g3,Nc7,Nge2,Bd6,Bg2,O-O,O-O,Nh5,Nb5,Nxb5,axb5,Bc7,Nc3,g6,Bh6,Re8,d6,Bb8,Qd5,Re6,f4,Rxd6,Qxe5,Rc6,Qd5,Nf6,Qd2,Rd6,Qf2,Ng4,Qxc5', 'Ba7,Qxa7,Rxa7', 'https://lichess.org/training/CXCDO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CxDmZ', 'Rapid', 'DerKultDesSoz', 1798, 'g1yk0s', 1773, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bd6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,d6,Nc3,Nf6,O-O,O-O,Qd3,a6,Rfe1,Na5,Bb3,Nxb3,axb3,Be6,d5,Bg4,Re3,Re8,Rae1,Nd7,h3,Bh5,Nh2,Nc5,Qd2,Nxb3,Qb2,Nc5,Rg3,Bg6,f4,f6,f5,Bh5,Qd2,Kh8,Qf4,Rg8,Qh4,Bf7,Rg4,Nd3,Re3,Ne5', 'Qxh7+,Kxh7,Rh4+,Bh5,Rxh5#', 'https://lichess.org/training/CxDmZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXDTU', 'Rapid', 'Majadebij', 1671, 'raamii11', 1678, 'd4,e6,e4,d5,e5,c5,Nf3,Qb6,c3,Nc6,Be2,cxd4,O-O,dxc3,Nxc3,Bb4,a3,Bxc3,bxc3,Nge7,Be3,Qc7,Rb1,Nf5,Bd4,O-O,Rb2,Ncxd4,cxd4,Bd7,Qb1,Bc6,Rc1,Qe7,Bb5,Bxb5,Rxb5,Qxa3,Rxb7,a5,h3,a4,Rcc7,h6,Ra7,Rxa7,Rxa7,Rc8,Qb7,Qc1+,Kh2,a3,Qxf7+,Kh7,Qxe6,Rf8,Qxd5,Qf4+,g3,Qc1,Qe4,Qf1,Qc2,Kg8,Rxa3', 'Nxd4,Nxd4,Rxf2+,Qxf2,Qxf2+', 'https://lichess.org/training/CXDTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cxFCj', 'Blitz', 'Domostroi', 2063, 'TryHardinq', 2193, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5a3,Be6,Nc3,Be7,Be2,Nf6,Bg5,O-O,O-O,h6,Bxf6,Bxf6,Nc2,Rc8,b3,Qe7,Nd5,Bxd5,cxd5,Nb8,Ne3,g6,Ng4,Bg5,h4,Bxh4,Nxh6+,Kg7,Ng4,f5,exf5,gxf5,Nh2,Rh8,Bd3,e4,Re1,Qe5,Nf3,Qxd5,Nxh4,Rxh4,Bc4,Rch8,Kf1,Rh1+,Ke2,Rxe1+,Qxe1,Qe5,Rd1,Nc6,Qd2,Rd8', 'Qg5+,Kf8,Qg8+,Ke7,Qf7#', 'https://lichess.org/training/cxFCj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXGB5', 'Classical', 'acaciobn', 1753, 'Boll', 1929, 'd4,d5,c4,dxc4,Nc3,Nf6,e3,e6,Bxc4,a6,a4,c5,Nge2,Nc6,O-O,Be7,d5,exd5,Nxd5,O-O,Nec3,Ne5,Nxe7+,Qxe7,Ba2,Rd8,Qe2,Bg4,f3,Bh5,e4,h6,Bf4,Nc6,Be3,Nd4,Qf2,b6,Bd5,Nxd5,Nxd5,Qb7,Bxd4,cxd4,Qxd4,b5,axb5,axb5,Rxa8,Rxa8,Rc1,Ra4,Qe5,Qa7+,Kh1,Bg6,b3,Ra2,Qe8+,Kh7,Qe5,Qa3,Qc3,Rf2,h4,Qa2,Nf4,Bh5,Nxh5,Rxg2,Nf4', 'Rh2+,Kg1,Qf2#', 'https://lichess.org/training/CXGB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXGbg', 'Rapid', 'ErickkoaXZuniga', 1603, 'Ziotebo', 1987, 'e4,e6,Nc3,c5,Bc4,Nc6,a3,d6,Ba2,Nf6,d3,Be7,h3,O-O,g4,Re8,g5,Nd7,Nf3,Nf8,h4,e5,h5,Bg4,Rg1,Bxh5,Nd5,Nd4,Rg3,Nxf3+,Rxf3,Bxf3,Qxf3,Ne6,g6,hxg6,Be3,Bg5,Ke2,Nd4+,Bxd4,exd4,Rh1,Bh6,Nf4,Qg5,Rxh6,gxh6,Nh3,Qe7,Nf4,Kg7,Nd5,Qg5,Nc7,f5,Nxa8,Rxa8,exf5,Re8+,Kf1,Re7,Qd5,Qxf5', 'Qg8+,Kf6,Qf8+,Kg5,Qxe7+', 'https://lichess.org/training/CXGbg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXhUl', 'Blitz', 'CM Davigator', 2376, 'Beaumes', 2417, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Nd7,Be3,Ne7,O-O,Bg6,Nbd2,Nf5,c3,a6,a4,c5,a5,c4,b3,cxb3,Qxb3,Rb8,c4,dxc4,Nxc4,Be7,g4,Nxe3,fxe3,O-O,Bd3,b5,axb6,Nxb6,Bxg6,hxg6,Rxa6,Nxc4,Qxc4,Bg5,Nxg5,Qxg5,Rf4,Rb1+,Kg2,Rfb8,Ra2,Qh4,Raf2,Re1,Qc3,Rbb1,d5,Rg1+,Kf3,Qh3+,Ke4,exd5+,Kxd5,Rgd1+,Ke4,g5,Qc8+,Kh7,Rxf7,Rb4+,Kf5', 'Qxg4#', 'https://lichess.org/training/CXhUl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXhUs', 'Classical', 'Yahyakotb', 1763, 'Hossamy123', 1795, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Nbd7,Bd3,O-O,O-O,c5,e5,dxe5,dxe5,Ng4,e6,fxe6,Ng5,Nde5,h3,Nf6,Be2,h6,Nge4,b6,Nxf6+,exf6,f4,Nc6,Bf3,Bb7,Qc2,f5,Rd1,Qe7,Nb5,Nd4,Nxd4,Bxd4+,Rxd4,cxd4,Bxb7,Qxb7,Bd2,b5,c5,Rac8,Rc1,Qd5,a3,Rc6,Bb4,Rfc8,a4,bxa4,Qxa4,a6,Ba3,d3,Rc4,e5,fxe5,Qxe5,Rd4,Qe3+,Kh1,d2,Qc4+,Re6,Rxd2,Re8,Rd6,Kh7,Rd7+,R6e7,c6,Qe1+,Kh2,Qe5+,Kh1,Rxd7,cxd7,Qe1+,Kh2,Qe5+,Kh1,Rd8,Qf7+,Kh8,Be7,Rxd7', 'Bf6+,Qxf6,Qxf6+', 'https://lichess.org/training/CXhUs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cXi4S', 'Rapid', 'Luisael', 1716, 'trollville', 1703, 'e4,c5,Nc3,d6,Bb5+,Nc6,Nf3,Bd7,Bc4,Nf6,O-O,e6,d4,cxd4,Nxd4,Be7,Bg5,d5,exd5,Nxd5,Bxe7,Ndxe7,Ncb5,O-O,Nxc6,Bxc6,Qxd8,Rfxd8,Rad1,a6,Nd4,Bd5,Bd3,b5,c3,Rac8,Ra1,e5,Ne2,e4,Bc2,Bc4,Rfe1,Rd2,Nd4,Nf5,Rxe4', 'Nxd4,Rxd4,Rxc2', 'https://lichess.org/training/cXi4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cxIyl', 'Rapid', 'Jupp3', 1766, 'valdeilton', 1848, 'c4,e6,Nc3,f5,d4,Nf6,Bg5,Nc6,a3,Be7,Bf4,O-O,Nb5,d6,c5,a6,cxd6,cxd6,Nc3,Qb6,e3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/cxIyl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXjrk', 'Rapid', 'BoomBaam', 1942, 'giawww', 1880, 'd4,d5,c4,Bf5,Nc3,e6,cxd5,exd5,Nf3,Nf6,Bg5,Be7,e3,h6,Bh4,Ne4,Bxe7,Qxe7,Nxd5,Qd7,Bb5', 'c6,Nf4,cxb5', 'https://lichess.org/training/CXjrk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cXKNc', 'Rapid', 'unalant', 1626, 'TWISTERRR', 1633, 'e4,e5,Nf3,Nf6,Nc3,Bb4,d3,Bxc3+,bxc3,Nc6,Be3,d5,exd5,Nxd5,Bc5,b6,Ba3,Nxc3,Qd2,Nb5,Bb2,f6,Be2,Bb7,O-O,Nbd4,Nxd4,Nxd4,Bh5+,g6,Be2,e4,dxe4', 'Nf3+,Bxf3,Qxd2', 'https://lichess.org/training/cXKNc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXL3L', 'Classical', 'YuriyMoscowRussia', 1604, 'Gennadiy0209', 1614, 'e4,e5,Nf3,Nc6,Bb5,d6,d3,Bd7,c3,g5,Nxg5,h5,Bc4,Qe7,Bxf7+,Kd8,Bxh5,Nf6,Nf7+,Kc8,Nxh8,b6,Ng6,Qg7,O-O,Kb7,Nxf8,Rxf8,Be3,Rh8,Bf3,Qh7,Re1,Qxh2+,Kf1,Ng4,Ke2,Nxe3,fxe3,Bg4,Kd2,Bh3,Qe2,Be6,Na3,Qg3,Rh1,Rf8,Raf1,Qg8,Bh5,Rd8,Qf3,Bxa2,Bf7,Bxf7,Qxf7,Qxg2+,Qf2,Qg8,Rhg1,Qa2,Ke1,Qa1+,Ke2,Qa2,Rb1,Na5,Kf1,Nb3,Rg7,Nc5,Qe2,Qe6,Rg2,Qh3,Ke1,Qh4+,Qf2', 'Nxd3+,Ke2,Nxf2', 'https://lichess.org/training/CXL3L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cXlAl', 'Classical', 'matrix13', 1750, 'KorshunA', 1691, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Qf6,Be3,Ne5,Bb3,Ne7,Nc3,c6,h3,N7g6,Qd2,Bb4,f4,Qh4+,Ke2,Bxc3,bxc3,O-O,fxe5,Qxe4,g4', 'Nf4+,Kd1,Qxh1+', 'https://lichess.org/training/cXlAl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CxlJv', 'Classical', 'shahmabox81', 1853, 'TemkaGuscof', 2111, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Nf3,Be7,Qd2,b5,O-O-O,Bb7,Be2,Nbd7,Bf4,Nxe4,Nxe4,Bxe4,Bxd6,Bxd6,Qxd6,Rc8,c3,Qc7,Qd4,Nf6,Rhg1,Rd8,Qxd8+,Qxd8,Rxd8+,Kxd8,Ne5,Ke7,f3,Bd5,Rd1,Bxa2,Nc6+,Kf8,Rd8+,Ne8,Nb4,Ke7,Ra8,Bc4,Bxc4,bxc4,Nxa6,Rf8,Ra7+,Kf6,Nc5,g6,Nd7+,Ke7,Nxf8+,Kxf8,Kd2,Nd6,Rd7,Nf5,Rc7,Nd6,Ke3,Kg7,Rc6,Nf5+,Kf2,Kf6,Rxc4,Nd6,Rd4,Nb5,Rf4+,Ke7,c4,Nd6,c5,Nb5,Rc4,Kd7,Rb4,Kc6,Rc4,Kd5,Rc1,Kc6,Kg3,Nd4,Kg4,Nb3,Rc3,Nd4,Kg5,f5,Kf6,Kd5,b4,e5,h3,e4,fxe4+,fxe4,Kg5,Nb5,Re3,Kd4,Kf4', 'g5+,Kxg5,Kxe3', 'https://lichess.org/training/CxlJv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CxLke', 'Rapid', 'Gahool', 1906, 'petr_kurlik', 1875, 'e4,d6,d4,e6,c4,c5,d5,e5,Nf3,h6,Nc3,a6,Be2,Be7,a4,Nf6,h3,Nbd7,a5,Nh7,Bd2,Ng5,O-O,Nxf3+,Bxf3,Bg5,Bh5,Nf6,Bxg5,hxg5,Bg4,Nxg4,hxg4,Qd7,Na4,Qxg4,f3,Qh5,Nb6,Rb8,Qa4+,Kd8,Kf2,f6,b4,Qe8,b5,Bd7,Nxd7,Qxd7,Rh1,Rxh1,Rxh1,Ke7,Qb3,Qc7,Rh7,Kf7,b6,Qd7,Qd1,Kg6,Qh1,Rg8', 'Qh5#', 'https://lichess.org/training/CxLke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cxLTv', 'Rapid', 'bruneti', 2261, 'quinzecinq', 2123, 'd4,d6,Nf3,f6,g3,e5,e3,e4,Nfd2,f5,Bg2,Nf6,O-O,h5,h4,Rg8,f3,g5,fxe4,gxh4,exf5,Rxg3,Rf3,Bh6,Rxg3,hxg3,e4,Be3+,Kh1', 'Ng4,Nf3,Nf2+,Kg1,Nxd1+', 'https://lichess.org/training/cxLTv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cXo1F', 'Blitz', 'chingiz_sarzhanov', 2094, 'mattmattock', 1948, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,e6,Be2,Be7,Qd2,a6,O-O,Qc7,a4,Ne5,a5,Nc4,Bxc4,Qxc4,b3,Qc7,f3,O-O,Na4,Bd7,Nb6,Rad8,c4,Bc6,Rac1,Nd7,Kh1,Nxb6,axb6,Qd7,b4,d5,b5,axb5,cxb5,Bxb5,Rc7,Qe8,Nxb5,Qxb5,Qc1,Bd6,Rxb7,dxe4,fxe4,Qe5,Bf4,Qxe4,Bxd6,Rxd6,Qc7,Rd2', 'Qxf7+,Rxf7,Rb8+,Rd8,Rxd8+,Rf8,Rdxf8#', 'https://lichess.org/training/cXo1F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXOm3', 'Blitz', 'jbsay', 1706, 'nil17', 1738, 'd4,Nf6,Nf3,d5,e3,c5,c3,c4,b3,cxb3,axb3,e6,Bd3,Bd6,O-O,Qc7,Nbd2,Qxc3,Nb1,Qc7,Ba3,Nc6,Re1,Ng4,h3,Nh2,Bxd6,Nxf3+,Qxf3,Qxd6,Nc3,Nb4,Bb1,a6,Rc1,O-O,Na4,b6,Qh5,g6,Qh4,e5,dxe5,Qxe5,Qxb4,Qxa1,Qxb6,Bf5,Qd4,Qa3,Bxf5,Qxc1+,Kh2,gxf5,Qxd5,Rfd8,Qxf5,Rd1,Qg5+,Kf8,Qh6+,Ke8,Qxh7,Rh1+,Kg3,Qc7+,Kf3,Qc6+,Kg3,Rd8,Qg8+,Kd7,Qg4+,Kc7,Qh4,Rg8+,Kf4,Qd6+,Kf3,Qd5+,Kf4,Qxg2,Qe7+,Kc6,Qf6+,Kb7,Qe7+,Kc6,Qf6+,Kb5', 'Qb6#', 'https://lichess.org/training/CXOm3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cXpd8', 'Rapid', 'Rankle19', 1887, 'venkatesh90', 1881, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d6,c3,Nf6,Re1,Ne5,Nxe5,dxe5,b4,cxb4,cxb4,Bd7,a3,Be7,Nc3,O-O,d3,Qc7,Bg5,a6,Rc1,Rac8,Ne2,h6,Bxf6,Bxf6,Bxe6,Qd6,Rxc8,Rxc8,Bd5,Bc6,Nc3,Rd8,Qb3,Qe7,Rc1,Bxd5,Nxd5,Qd6,Rc7,Rd7,Rc8+,Kh7,Qd1,Bg5,Qg4,Rd8,Rc7,f6,Qf5+,Kh8,Qg6,Rd7,Rc8+,Rd8,Rc7,Qf8,Rf7,Qg8,Ne7,Qh7,Qh5,b5,Nf5,Rc8,g3,Rg8,Ne7,Rd8,Ng6+,Kg8,Ne7+,Kh8,Nd5,Qg8,h4', 'g6,Qf3,Qxf7', 'https://lichess.org/training/cXpd8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cXpMB', 'Rapid', 'ssssssssss29012901', 1849, 'Zygomorf', 1839, 'd4,f5,c4,Nf6,Nf3,e6,g3,Be7,Bg2,d5,Nbd2,c6,Ne5,O-O,Qc2,Bd6,Ndf3,Qe7,c5,Bc7,O-O,Nbd7,Bf4,Nxe5,Bxe5,Ng4,Bxc7,Qxc7,h3,Nf6,Ne5,Nd7,Nd3,Qd8,Qd2,Nf6,Qe3,Ne4,Bxe4,fxe4,Ne5,Bd7,f3,exf3,Rxf3,Rxf3,Qxf3,Qe7,Rf1,Rf8', 'Qxf8+,Qxf8,Rxf8+,Kxf8,Nxd7+', 'https://lichess.org/training/cXpMB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CxrIk', 'Rapid', 'Jean-philippe', 1842, 'Crush3r', 1866, 'd4,d5,c4,c6,c5,e5,e3,e4,f3,Nf6,fxe4,Nxe4,Nf3,g6,Nc3,Qa5,Bd2,Nxd2,Qxd2,Bg7,a3,O-O,b4,Qc7,O-O-O,a5,b5,Bd7,b6,Qd8,a4,Re8,Bd3,Na6,Bxa6,bxa6,Rde1,Bf5,Na2,Qe7,Qxa5,Qe4,Nb4,Bh6,Nd2', 'Bxe3,Rxe3,Qxe3', 'https://lichess.org/training/CxrIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cxRnS', 'Blitz', 'Turan19', 1776, 'modro787', 1758, 'e4,e5,d3,Nf6,Nc3,Bb4,Bd2,d5,exd5,Bxc3,Bxc3,Nxd5,Qd2,O-O,O-O-O,Nxc3,Qxc3,Qd5,Kb1,Nc6,Nf3,Be6,b3,a5,Re1,f6,Nd2,a4,Be2,b5,Bf3,Qd6,Qxc6,Qa3,Qxe6+,Rf7,Bxa8,axb3,Qe8+,Rf8,Bd5+,Kh8,Qxb5', 'Qxa2+,Kc1,Qxc2#', 'https://lichess.org/training/cxRnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXRp6', 'Rapid', 'Azazel_kz', 1758, 'DArby74', 1735, 'e4,b6,Nf3,Bb7,Nc3,Nf6,e5,Nd5,Nxd5,Bxd5,d4,d6,b3,Nc6,Bb5,a6,c4,axb5,cxd5,Nb4,a3,Nxd5,Qc2,Qd7,O-O,g6,Re1,Bg7,Ng5,O-O,e6,fxe6,Nxe6,Rf6,Nxg7,Kxg7,Bg5,Rf5,Qd2,Raf8,f3,Nf4', 'Rxe7+,Qxe7,Bxe7', 'https://lichess.org/training/CXRp6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXS6u', 'Rapid', 'ilnur2010', 2146, 'dpomerantz', 2164, 'd4,Nf6,Nf3,e6,Bf4,b6,e3,Bb7,Be2,c5,c3,cxd4,exd4,Be7,Nbd2,O-O,O-O,d6,h3,Nbd7,Bh2,a6,Re1,Re8,Bd3,Bf8,Ne4,Nxe4,Bxe4,Bxe4,Rxe4,Nf6,Re1,b5,Qd3,Qb6,Nd2,d5,a3,a5,Rec1,Rec8,b4,axb4,axb4,Ra6,Nb3,Rca8,Rxa6,Qxa6,Na5,Ne4,f3,Nd6,Bxd6,Bxd6,Kf2,Bc7,Nb3,Qd6,Ra1,Qg3+,Kf1,Rxa1+,Nxa1,g6,Qe3,Bf4,Qe2,Qh2,Nc2,Qh1+,Kf2,Qc1,g3,Bd6,Kg2,h5,h4,Kh7,f4,Qb1,Na3,Qa1,Nxb5,Bb8,c4,dxc4,Qxc4,Qb2+,Kh3,Qb1,Kg2,Qb2+,Kf3,Qh2,Qf1,Qb2,Qc4,Qh2,Qe2,Qh1+,Qg2,Qd1+,Qe2,Qb3+,Qe3', 'Qd5+,Kf2,Qxb5', 'https://lichess.org/training/CXS6u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXt8m', 'Classical', 'shaashvat', 1750, 'jensmunck', 1731, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,O-O,h6,Bb3,O-O,h3,Be6,Bc2,d5,exd5,Nxd5,Nbd2,Bb6,Re1,Qd6,Rf1,f5,Nc4,Qd7,Nxb6,axb6,Re1,Qd6,Qe2,Nf4', 'Bxf4,exf4,Qxe6+,Qxe6,Rxe6', 'https://lichess.org/training/CXt8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cxtSx', 'Blitz', 'CM r-morais', 2031, 'poguatotal', 2018, 'd4,c5,d5,d6,c4,Nd7,Nc3,Ndf6,Nf3,Bg4,e4,Nh6,h3,Bxf3,Qxf3,g6,Bg5,Bg7,Qe3,Nhg8,Bd3,Qa5,O-O,O-O-O,a3,h6,Nb5,hxg5,b4,Qb6,a4,cxb4', 'Nxa7+,Kc7,Nb5+', 'https://lichess.org/training/cxtSx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cXvcV', 'Rapid', 'Eduard54', 1771, 'nomislar', 1975, 'f4,Nf6,d3,d5,Nf3,Bg4,e3,Nc6,Be2,e6,b3,Bd6,Bb2,O-O,Nbd2,a5,Ne5,Bxe2,Qxe2,Nb4,Ndf3,c6,O-O,h6,a3,Na6,Bd4,c5,Bc3,Nc7,Qd2,Nb5,Bb2,Qb6,a4,Nc7,Kh1,Na6,g4,Nb4,g5,hxg5,fxg5,Nh5,Nd7,Qc6,Nxf8,Rxf8,Be5,d4,exd4,Bxe5,dxe5,g6,c3,Nd5,Rf2,Kg7,Kg1,Rh8,h4,Ndf4,Kf1,Nh3,Re1,Nxf2,Kxf2,Rd8,Qe3,b6,d4,c4,Nd2,cxb3,Nxb3,Qc4,Nd2,Qxa4,Ne4,Qa2+,Re2,Qd5,Nd6,Qh1,Qf3,Qxh4+,Kf1,Nf4,Rf2,Rh8', 'Qxf4,Qxf4,Rxf4', 'https://lichess.org/training/cXvcV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXVfr', 'Classical', 'Milyoner35', 1984, 'kostinski', 1905, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nc6,Bb5,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,a6,Ba4,b5,Bb3,Nxd4,Qd3,Nxb3,axb3,h6,O-O,e6,Bf4,Bd6,Bxd6,Qxd6,Nxb5,Qb6,c4,O-O,Na3,Rfb8,cxd5,Nxd5,Rfc1,Qxb3', 'Rc8+,Rxc8,Qxb3', 'https://lichess.org/training/CXVfr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CXWki', 'Rapid', 'pula89', 1702, 'syd79', 1770, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Nf3,c5,Bb5+,Nc6,Bg5,Qb6,a4,Qc7,O-O,Ne7,dxc5,a6,Bd3,Bxd3,Qxd3,Nf5,g4,Nb4,Qd2,Ne7,Ne4,dxe4,Qxb4,exf3,Bf4,Ng6,Bg3,Bxc5,Qc3,O-O,Kh1,Rfd8,b4,Bb6,Qxf3,Bd4,c3,Bxe5,Bxe5,Nxe5,Qe3,Nxg4,Qh3,Qc6+,f3,Ne3,Rg1,Rd2,Rxg7+,Kxg7,Rg1+,Kh8,Qg3,Qxc3,Qe1,Qc2,Qg3,Nf5', 'Qe5+,f6,Qxf6+,Ng7,Qxg7#', 'https://lichess.org/training/CXWki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CxwmM', 'Blitz', 'Jomppu', 1692, 'HBman56', 1688, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,O-O,Nf6,Re1,h6,c3,Nc6,d4,exd4,cxd4,Qd7,Qb3,O-O-O,Nc3,Kb8,Be3,g5,d5,exd5,exd5,Na5,Qb4,b6,Nd4,Ng4,Rac1,Bg7,Ncb5,Rc8,Nc6+,Nxc6,dxc6,Qf5,Qa4,a5,h3,Nxe3,Rxe3,Rhe8,Rce1,Rxe3,Rxe3,Qb1+,Kh2,Be5+,g3,Qxb2,Rb3,Qd2,Rf3,h5,Rf7,h4,Qg4,hxg3+,Kg2,gxf2', 'Qxc8+,Kxc8,Rf8#', 'https://lichess.org/training/CxwmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CxYAp', 'Rapid', 'zoranmiletic', 1764, 'nayabis', 1812, 'e4,d6,Nf3,Nf6,d3,g6,Bg5,Bg4,h3,Bxf3,Qxf3,Bg7,Nc3,c6,O-O-O,Qa5,d4,Qxg5+,Kb1,Nbd7,h4,Qa5,Qh3,h5,e5,dxe5,dxe5,Qxe5,Bc4,Ng4,f3,Nf2', 'Qxd7+,Kf8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/CxYAp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cy3AG', 'Blitz', 'FanChess02', 1553, 'XARONDAS', 1571, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd5,Nf6,Qd3,d6,Nf3,Qe7,Nc3,Be6,Bg5,O-O-O,O-O-O,h6,Bh4,g5,Bg3,Nb4,Qb5,Nc6,Nd5,Bxd5,exd5,Ne5,Nxe5,dxe5,Bc4,Qd6,Rhe1,a6,Qa4,Kb8,Qb3,h5,Bxe5,Qe7,Bxa6,b6,Qf3,Bg7,d6,c6,Qxc6,Qd7,Qxb6+,Ka8,Rd3,Rb8,Qc7,Qe6,d7,Nd5,Rxd5,Qxd5,Bxg7,Rhd8,Bf6,Rxd7,Qe5', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/Cy3AG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cy4hO', 'Classical', 'DanielWench', 1802, 'Andreymeyster', 1819, 'c4,e5,g3,Bc5,Bg2,Qf6,e3,Qb6,Nc3,Qa5,d4,exd4,exd4,Bb4,Bd2,Nc6,a3,Bxc3,Bxc3,Qg5,Nf3,Qe7+,Qe2,Nf6,Qxe7+,Nxe7,O-O,d5,b3,dxc4,bxc4,O-O,Rab1,Rb8,Ne5,Be6,Rxb7,Rxb7,Bxb7,Ng4,Bb4,Rb8,Bg2,Nxe5,dxe5,Nc6,Bxc6,Bxc4,Rc1,Be6,Bg2,Rb5,Rxc7,a5,Bd6', 'Rb1+,Bf1,Bh3', 'https://lichess.org/training/Cy4hO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CY6iE', 'Rapid', 'dscgg', 1737, 'mcjh', 1716, 'Nf3,d5,b3,c5,c4,Nf6,Bb2,d4,e3,Nc6,exd4,cxd4,d3,e5,a3,Be7,b4,b6,b5,Nb8,Nxe5,O-O,Nd2,Re8,Be2,Bd6,Ndf3,Bxe5,Nxe5,Rxe5,O-O,Re8', 'Bf3,Bg4,Bxg4', 'https://lichess.org/training/CY6iE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cyAm1', 'Blitz', 'Chessbird', 2242, 'IM Lefleau', 2202, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,Nc3,g6,e4,d6,Nf3,Bg7,bxa6,O-O,Be2,Bxa6,O-O,Nbd7,h3,Qb6,Nd2,Rfb8,Bc4,Qb4,Bxa6,Rxa6,a3,Qd4,Nf3,Qxd1,Rxd1,Rb3,Nd2,Rb7,Nc4,Ne8,Bg5,Nb6,Ne3,h6,Bh4,g5,Bg3,Bxc3,bxc3,Na4,c4,Rb3,Rdb1,Rab6,Rxb3,Rxb3,e5,f6,exd6,Nxd6,Bxd6,exd6,Nf5,Rb6,Re1,Nb2,Re4,Nd3,Re6,Rb1+,Kh2,Nxf2,Rxf6', 'Rh1+,Kg3,Ne4+,Kf3,Nxf6', 'https://lichess.org/training/cyAm1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cybhN', 'Rapid', 'Sneakerx', 1675, 'GulaschBoy', 1647, 'e4,c5,Nc3,e6,g3,Nc6,Bg2,g6,Nf3,Bg7,O-O,Nf6,d3,O-O,Bg5,e5,Qd2,d6,h4,Bg4,Nh2,Qd7,Bxf6,Bxf6,Nd5,Bg7,a3,Ne7', 'Nxe7+,Qxe7,Nxg4', 'https://lichess.org/training/cybhN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CyBYT', 'Classical', 'IDPTG', 1622, 'Nov202017', 1658, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,Bc5,c3,Ne7,cxd4,Bxd4,Nc3,Ng6,d3,O-O,Re1,Qf6,Be3,Bxc3,bxc3,Qxc3,Rc1,Qa5,Bc4,Ne5,Bd2,Qa3,Rc3,Qe7,Bb3,d6,Qc1,c5,Bg5,Qc7,d4,Nd7,Qf4,b6,Be7,Bb7,Bxf8,Nxf8,Rb1,Ne6,Bxe6,fxe6,dxc5,bxc5,f3,e5,Qf5,Bc8,Qg5,Qa5,Qd2,Be6,Qxd6,Qxa2,Rb8+,Rxb8,Qxb8+,Kf7,Rxc5', 'Qa1+,Kf2,Qd4+,Kg3,Qxc5', 'https://lichess.org/training/CyBYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CydbD', 'Blitz', 'Muha750', 2333, 'GM Tilicheev_Viacheslav', 2467, 'Nf3,g6,g3,Bg7,Bg2,e5,d3,Ne7,c4,O-O,Nc3,d6,O-O,Nbc6,Rb1,f5,Nd2,f4,b4,Bg4,Nd5,Rb8,h3,Be6,b5,Nd4,e3,f3,Nxf3,Nxd5,cxd5,Nxf3+,Bxf3,Bxh3,Bg2,Bxg2,Kxg2,Qd7,e4,Rf7,Be3,Rbf8,a4,h5,Rh1,Kh7,g4,Bh6,gxh5,Bxe3,hxg6+,Kxg6,Qh5+,Kf6,fxe3,Ke7,Rh2,Rf2+,Kg1,Rxh2,Kxh2,Kd8,Rg1,a6,Qg5+,Kc8,Qg4', 'Rh8+,Kg3,Qxg4+,Kxg4,Rg8+,Kf3,Rxg1', 'https://lichess.org/training/CydbD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cyds0', 'Rapid', 'JanseBjornras', 1973, 'bolikus', 1943, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Ne2,Qb6,c3,Be7,g3,O-O,Bg2,f6,O-O,fxe5,fxe5,cxd4,cxd4,Ndxe5,Nxe5,Rxf1+,Kxf1,Nxe5,dxe5,Bd7,Qb3,Rf8+,Bf3', 'Qxb3,axb3,Rxf3+', 'https://lichess.org/training/cyds0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cyeeb', 'Rapid', 'JuceP', 1744, 'el_perro_orfeo', 2001, 'c4,g6,Nf3,c5,g3,Bg7,Bg2,Nf6,Nc3,d6,d3,Nc6,O-O,O-O,Bd2,Bg4,h3,Bd7,a3,Qc8,Kh2,a6,Qc1,Rb8,Bh6,Nd8,Bxg7,Kxg7,Nd5,Nxd5,cxd5,e6,Nh4,exd5,Qg5,Ne6,Nf5+,Kh8', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/Cyeeb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CyF4I', 'Rapid', 'Phienphucqua', 1807, 'ReallyNotVeryGood', 1984, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,c5,b3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bb2,Bb4+,c3,Ba5,O-O,O-O,Qc2,Bb7,Nd2,Bc7,c4,Qd6,g3,c5,cxd5,Qxd5,f3,Rfd8,Be4,Nxe4,Nxe4,Qh5,Qc3,Qg6,Nxc5,Bc6,Kg2,Bb6,Rad1,Rxd1,Rxd1,Re8,Rd2,Bxc5,Qxc5,Bxf3+,Kxf3', 'Qe4+,Kf2,Qe1+', 'https://lichess.org/training/CyF4I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cYFAn', 'Rapid', 'ewgflegend', 1690, 'Blanqui69', 1693, 'Nf3,d5,e3,Bg4,c4,c6,b3,e5,d3,Nf6,Nbd2,e4,dxe4,dxe4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Nxe4', 'Qxd1+,Kxd1,Bxf3+', 'https://lichess.org/training/cYFAn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYFEe', 'Rapid', 'Pierre-Saint-Amant', 1689, 'Lomok', 1839, 'd4,e5,dxe5,Nc6,Nf3,Bc5,e3,Qe7,Bc4,Nxe5,O-O,Nxf3+,Qxf3,Nf6,a3,O-O,b4,Bb6,Bb2,c6,Bb3,d5,c4,Bg4,Qg3,Be6,Nd2,Bc7', 'Bxf6,Qxf6,Qxc7', 'https://lichess.org/training/CYFEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CyFs7', 'Rapid', 'Godasa', 1775, 'SkyShoedHorse', 1747, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d6,c3,a6,O-O,Na5,Bd5,Nxd5,exd5,b6,b4,Nb7,Ng5,Be7,Qh5,g6,Qh6,Bf8,Qh4,Bf5,f4,exf4,Rxf4,f6,Ne6,Bxe6,dxe6,Bg7,e7,Kxe7,Re4+,Kf7,Qh3,Qc8,Qf3,Qd7,Na3,d5,Re3,c6,c4,f5,Rb1,Bd4,Qf4,Bxe3+,Bxe3,d4,Bxd4,c5,Bxh8,Rxh8,Qf3,Re8,Nc2,Nd8,Rd1,Nc6,a3,Nd4,Nxd4,Qxd4+,Kh1,Re3,Qb7+,Kg8,Qxb6,Rxd3,Rxd3', 'Qa1+,Rd1,Qxd1#', 'https://lichess.org/training/CyFs7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYfv1', 'Blitz', 'FM telarubo96', 2400, 'Latiza82', 2389, 'd4,d5,Nf3,Nc6,c4,Bg4,cxd5,Bxf3,gxf3,Qxd5,e3,e5,Nc3,Bb4,Bd2,Bxc3,bxc3,Qd6,Qb3,Rb8,d5,Nce7,c4,Nf6,Bb4,c5,dxc6,Qxc6,Bg2,Nd7,O-O,Nc5,Qa3,b6,Qxa7', 'Ra8,Qxa8+,Qxa8', 'https://lichess.org/training/CYfv1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cyh9v', 'Rapid', 'davor0', 1950, 'hechx', 1742, 'e4,e5,f4,exf4,Nf3,Bc5,d4,Bb6,Bxf4,Qf6,Be5,Qg6,Qd3,Nc6,c3,Nh6,Bg3,d6,Be2,Ng4,O-O,h5,Nh4,Qh7,Nd2,Nce5,Bxe5,dxe5,Kh1,g5,Nf5,Bxf5,Rxf5,O-O-O,Nc4', 'Qxf5,exf5,Nf2+,Kg1,Nxd3', 'https://lichess.org/training/Cyh9v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cyhOR', 'Rapid', 'Giwseppe', 1648, 'nargiT', 1830, 'd4,Nf6,Nc3,e6,Bf4,Bb4,Nf3,O-O,e4,d5,Bd3,dxe4,Bc4,exf3,Qxf3,Qxd4,Bd3,Bxc3+,bxc3,Qxc3+,Ke2,Nc6', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/cyhOR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cyiAd', 'Rapid', 'pit02', 1635, 'kambudjia', 1601, 'e4,e6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Nc6,Be3,Nxe5,Bb5+,Bd7,Qe2,Nc6,Nxc6,Bxc6,O-O,Nf6,Bg5,Be7,Nc3,O-O,Qf3,Qd7,Bxc6,Qxc6,Qg3,Rfe8,Bh6,Bf8,Rac1,Rac8,Ne2,Ne4,Qg4,Qb6,Be3,Qxb2,Bxa7,Qxa2,Be3,Rxc2,Rxc2,Qxc2,Nf4,b5,Rc1,Qb3,Nh5,g6,Bd4,f5,Qh3,gxh5,Qxh5,Ra8,g4,Bg7,Bxg7,Qf3,Bd4,Qxg4+,Qxg4+,fxg4,Rc7,b4,Rg7+,Kf8,Rxh7,Rb8', 'Rh8+,Kf7,Rxb8', 'https://lichess.org/training/cyiAd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cYiof', 'Rapid', 'Artur129', 1722, 'grohman', 1724, 'e4,e6,e5,d5,exd6,cxd6,Qg4,Nf6,Qg3,g6,d4,Bg7,Bg5,h6,Bxf6,Bxf6,c3,Bd7,Bd3,a6,Nd2,Bc6,Ngf3,g5,Nc4,Be7,O-O,b5,Ne3,f5,Qh3,h5,g4,Kd7,gxf5,g4,fxe6+,Kc7,Qg2,Bxf3,Nd5+,Kc6,Nb4+,Kb7,Be4+,d5,Bxd5+,Kc7,Bxf3,gxf3,Qxf3,Rg8+,Kh1,Bxb4,Qxa8,Bd6,Rg1,Qh4,Qa7+,Kc6,d5+,Kxd5,Rad1+,Kc4,Rxd6', 'Qe4+,f3,Qxf3+,Rg2,Qxg2#', 'https://lichess.org/training/cYiof');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYixf', 'Rapid', 'ricardo47', 1987, 'Leoborro', 1801, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,d3,d6,c3,Be6,Bb5,a6,Ba4,b5,Bc2,O-O,h3,Qd7,Ng5,h6,Nxe6,fxe6,Re1,Nh7,Nd2,Bh4,Nf3,Qe7,Bb3,Bg5,Nxg5,Nxg5,Qg4,Na5,Bc2,Rf7,b4,Nc6,Bb3,Qf6,Rf1,Qg6,Bxg5,hxg5,Bxe6,Rf8,Bd5,Ne7,Be6,Kh8,Bxf7,Rxf7,h4,Rf4,Qxg5,Qxg5,hxg5,Rg4,a4,Ng6,axb5,Nf4,bxa6', 'Ne2+,Kh1,Rh4#', 'https://lichess.org/training/CYixf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYJ8Z', 'Rapid', 'Pauchonok', 1708, 'venuMgopal', 1732, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be2,c5,Nb3,a5,a4,O-O,O-O,Qc7,Re1,Be6,Nd5,Bxd5,exd5,Na6,Bxa6,Rxa6,c4,Re8,Bg5,Raa8,Qd2,Qd8,Re2,Ne4', 'Rxe4,Bxg5,Rxe8+,Qxe8,Qxg5', 'https://lichess.org/training/CYJ8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CykJ5', 'Rapid', 'mehdi993', 1835, 'Derberoi', 1954, 'd4,d5,c4,Nc6,cxd5,Qxd5,e3,e5,Nc3,Bb4,Nf3,e4,Nd2,Bxc3,bxc3,Nf6,Qc2,O-O,c4,Qf5,Rb1,Nxd4,exd4,e3,Qxf5,exd2+,Bxd2,Bxf5,Rxb7,Rfe8+,Be3,Rab8,Rxa7,Rb1+,Kd2,Ne4+,Ke2,Nc3+,Kf3,Be4+,Kg4,Bd3,Bxd3,Rxh1,g3,g6,h4,h5+,Kf3,Rd1,Bxg6,fxg6,Rxc7,Nxa2,Bh6,Re6,d5,Rf6+,Ke2,Nc3+,Ke3,Re1+', 'Kd2,Rd1+,Kxc3', 'https://lichess.org/training/CykJ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYkpw', 'Rapid', 'DaniC_09', 2052, 'megi79', 2039, 'e3,b6,b3,Bb7,Bb2,Na6,f4,f6,Nf3,e6,Bxa6,Bxa6,d3,Bb4+,Nbd2,Ne7,O-O,O-O,a3,Bd6,Qe1,Nf5,e4,Nh6,g3,Ng4,h3,Rf7,c4,Nh6,Rc1,Rf8,Rf2,Qe7,Rg2,Bxa3', 'Bxa3,Qxa3,Ra1', 'https://lichess.org/training/CYkpw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CyKx8', 'Blitz', 'lepetitdab', 1600, 'dfin92', 1585, 'Nf3,d6,g3,g6,Bg2,Bg7,O-O,Nd7,d4,c5,b3,cxd4,Nxd4,e5,Nb5,Qb6,a4,a6,Bb2,axb5,Nc3,b4,Nd5,Qc5,Re1,Ngf6,Qd2,O-O,Ne7+,Kh8,Nxc8,Raxc8,e4,Qxc2,Bc1,Qxb3,Bb2,Nc5,Qxd6,Nd3,Bxe5,Nxe1,Rxe1,Rcd8,Qb6,Qxa4,Bxf6,Bxf6,Qxf6+,Kg8,e5,Qa5,Bd5,Rxd5,e6,Rc5', 'exf7+,Rxf7,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/CyKx8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYLkq', 'Rapid', 'CristianMartinezz', 2103, 'Amit70', 1960, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,d5,exd5,Na5,Nxe5,Nxc4,Nxc4,Qxd5,Ne3,Qd8,O-O,Bd6,c3,Be6,Nd2,Qd7,Re1,O-O-O,Ndc4,Bf4,Qf3,Bxe3,Nxe3,Nd5,Qg3,f5,Nc4,f4,Qh4,g5,Qh6,Rde8,Ne5,Qd6,Bd2,Rhf8,f3,g4,fxg4,Rg8,Bxf4,Nxf4,Qxf4,Rxg4,Qh6,Rgg8,Qxh7,Qd5,Qe4,Qb5,Qe2,Qd5,a3,Bh3,g3,Ref8,Qe4', 'Rf1+,Rxf1,Qxe4', 'https://lichess.org/training/CYLkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cYmqQ', 'Rapid', 'Blackpresident', 1658, 'franquicio', 1654, 'd4,d5,Nf3,e6,e3,Nf6,Bd3,Nc6,Nbd2,Bd6,O-O,Bd7,Re1,h5,c3,h4,e4,h3,g3,dxe4,Nxe4,Nxe4,Bxe4,f5,Bc2,Qf6,d5,Ne7,dxe6,Bc6,Bg5,Qg6,Bxe7,Bxe7,Ne5,Qxe6,Nxc6,Qxc6,f3,g6,Ba4,b5,Bb3,Rd8,Qe2,Rh7,Rad1,a6,Rxd8+,Kxd8,Rd1+,Kc8,Be6+,Kb8,Bd7', 'Bc5+,Kf1,Rxd7', 'https://lichess.org/training/cYmqQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYRiX', 'Rapid', 'riv9', 1758, 'Pradeep18', 1720, 'Nf3,d5,d4,Nf6,Bg5,Bg4,e3,h6,Bh4,Nbd7,Bd3,e5,Be2,Bxf3,Bxf3,e4,Be2,Be7,c3,O-O,Nd2,c6,O-O,b5,a3,a5,f3,b4,axb4,axb4,Rxa8,Qxa8,fxe4,dxe4,Nxe4,bxc3,Nxf6+,Bxf6,Bxf6,Nxf6,bxc3,Qa3,Qd3,Nd5,e4,Qxc3', 'exd5,Qxd3,Bxd3', 'https://lichess.org/training/CYRiX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYrWy', 'Rapid', 'jayexpect', 1836, 'lemilio775', 1927, 'd4,Nf6,Bg5,e6,Nc3,d5,Qd3,c5,dxc5,Nbd7,c6,bxc6,O-O-O,a5,h4,Be7,h5,h6,Bh4,Ne5,Qd4,Bd6,f4,c5,Qd2,Nc4,Qe1,Bxf4+,Kb1,Qb6,Na4,Na3+,Ka1,Nxc2+,Kb1,Na3+,Ka1,Qb5,bxa3,Qxa4,Bxf6,gxf6,Rd3,Be5+,Kb1,Rb8+,Rb3,Qe4+,Kc1,Rxb3,axb3,Qd4,Qd2,Qf2,Nf3,Bf4,Qxf4,Ke7,Qc7+,Bd7,Qxa5,Rc8,Qe1,Qe3+,Qd2,Qxb3,Qb2,Qc4+,Qc2,Qb5,e4,c4,exd5,Qxd5,Qc3,e5,Be2,Bf5,Rd1,Qe4,Qb4+,Ke8,Rd2,c3,Qxe4', 'cxd2+,Kd1,Bxe4', 'https://lichess.org/training/CYrWy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYSGK', 'Rapid', 'Mari_Dan', 2046, 'GM akitalover', 2581, 'Nc3,d5,e4,d4,Nce2,c5,Ng3,Nc6,Bb5,Bd7,Nf3,e6,O-O,Nge7,c3,a6,Be2,dxc3,bxc3,Ng6,d4,Bd6,e5,Be7,a4,O-O,Ba3,cxd4,cxd4,Bxa3,Rxa3,Nce7,Ne4,Bc6,Bd3,Nf4,Bb1,Nf5,Qd2,Ng6,Rd1,Rc8,g4,Nfh4,Ne1,Rc7,f4,Qe7,Rg3,Rd7,Nd6,Rxd6,exd6,Qxd6,f5,Qd5,fxg6', 'Qh1+,Kf2,Qxh2+,Ke3,Qxg3+', 'https://lichess.org/training/CYSGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYsgW', 'Rapid', 'izbor', 1724, 'R0BOT', 1763, 'e4,c5,Bc4,e6,Nc3,a6,a4,b6,d3,Bb7,Nf3,Qc7,Ng5,Nf6,Qf3,h6,Nh3,Bd6,O-O,Bxh2+,Kh1,Bd6,Ne2,g5,Qxf6,Be5,Qf3,f5,Qh5+,Kd8,Nxg5', 'hxg5,Bxg5+,Kc8,Qxh8+,Bxh8', 'https://lichess.org/training/CYsgW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYthU', 'Rapid', 'partey', 1634, 'rgreensd', 1662, 'e4,c5,Nc3,Nc6,Nf3,e6,d4,cxd4,Nxd4,Nf6,Be3,a6,Be2,Be7,Qd2,b5,O-O,Bb7,Bf3,e5,Nf5,O-O,Nxe7+,Qxe7,Rad1,Rac8,Bg5,Rfd8', 'Nd5,Nxd5,Bxe7', 'https://lichess.org/training/CYthU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYTZK', 'Rapid', 'KevinRG118', 1758, 'MileyBau', 1833, 'd4,e6,e3,Nf6,Nc3,Nd5,Nf3,Nxc3,bxc3,Bd6,Bb5,O-O,Bc4,Nc6,Ng5,Qxg5,e4,Na5,Bxg5,Nxc4,O-O,c6,Bh4,a5,e5,Nxe5,dxe5,Bxe5,a4,Ra6,Ra3,Rb6,Qa1,c5,Qe1,d6,Be7,Re8,Bh4,c4,Qa1,Rc6,Qb2,d5,Qc1,Bxc3,Rxc3,d4,Rf3,c3,Qf4,e5,Qg5,e4,Rf4,d3,cxd3,exd3,Rd4,d2,Rxd2,cxd2,Rd1', 'Re1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/CYTZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cYVJ3', 'Blitz', 'king2020', 1923, 'DrQJ', 1884, 'Nf3,e6,d4,b6,e4,Bb7,Bd3,Nc6,a3,Qe7,O-O,O-O-O,c4,f6,d5,Nb8,b4,g5,Be3,g4,Nd4,h5,Nb5,Na6,Nxa7+,Kb8,Nb5,Qg7,N1c3,h4,Be2,g3,fxg3,hxg3,h3,Nh6,Bf4,e5,Be3,Nf7,Na4,Ng5,Bf3,Qg6,Qc2,Bh6,Bxg5,Qxg5,Rae1,Qg6,c5,c6,Nd6,Rdg8,Nxb7,Kxb7,dxc6+,dxc6,cxb6,Bf4,Rd1,Rg7,Rd6,Nb8,Nc5+,Kxb6,Qa4,Be3+,Kh1', 'Rxh3+,gxh3,g2+,Bxg2,Qxg2#', 'https://lichess.org/training/cYVJ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYWzs', 'Blitz', 'Bijesh2500', 1887, 'JJTTRR', 2232, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Ne2,Bd7,Nd2,a5,Nf3,b5,a3,b4,axb4,axb4,Rxa8,Qxa8,Nf4,c4,Be2,b3,O-O,h6,Nh5,Qa2,Nh4,g6,Ng3,Be7,Nf3,Na7,Ne1,Nc8,f4,h5,Bf3,Qb1,Rf2,Nb6,Rf1,Nh6,Rf2,Na4,Nf1,Nf5,g3,Ng7,Nd2,Qa1,h3,Nxb2,Bxb2,Qxb2,Ne4,Qa3,Nf6+,Bxf6,exf6,Nf5,g4,hxg4,hxg4,Nd6,Qb1,Qa5,Qb2,O-O,Rh2,Ra8,f5,exf5,Qc1,Qa1', 'Rh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/CYWzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cYxh1', 'Blitz', 'mLed16', 2363, 'KramnikZero', 2314, 'c4,e6,Nf3,d5,b3,Nf6,g3,Be7,Bg2,O-O,O-O,a5,Nc3,c6,Bb2,Nbd7,d4,b6,Qc2,Ba6,Nd2,Qb8,e4,dxe4,Ncxe4,Nxe4,Bxe4,h6,Bxc6,Rd8,Bg2,Nf6,Rfe1,Ra7,Rad1,Rad7,Nf3,Bb4,Bc3,Bb7,Ne5,Bxg2,Kxg2,Rd6,Bxb4,axb4,c5,bxc5,dxc5', 'Rxd1,Rxd1,Rxd1,Qxd1,Qxe5,Qd8+,Kh7', 'https://lichess.org/training/cYxh1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYXnu', 'Rapid', 'BeQuite', 1991, 'yiamav', 2054, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Bc5,c3,d6,h3,O-O,O-O,Be6,Bc2,d5,exd5,Bxd5,Re1,Re8,Bg5,Bb6,Nbd2,Qd6,Ne4,Nxe4,dxe4,Be6,Qxd6,cxd6,Rad1,Bc7,Bb3,Bxb3,axb3,f6,Bh4,Na5,Nd2,Rad8,b4,Nc6,Nf1,Rd7,Ne3,Ne7,Nd5,Nxd5,Rxd5,Kf7,Red1,Ke6,Kf1,h5,f3,g5,Bf2,Rg8,Ke2,g4,b3,gxf3+,gxf3,Rg2,Rg1,Rdg7,Rxg2,Rxg2,Kf1,Rg8,c4,bxc4,bxc4,Rb8,b5,axb5,Rxb5,Ra8,Kg2,Ra2,Kg3,h4+,Kg2,Rc2,c5,dxc5,Rxc5', 'Rxf2+,Kxf2,Bb6,Ke1,Bxc5', 'https://lichess.org/training/CYXnu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cyyg6', 'Rapid', 'shahin1352', 1636, 'FloatingSignifier', 1663, 'e4,e6,Bc4,Bc5,Nc3,Qf6,Qf3,Nc6,Qxf6,Nxf6,Nge2,a6,d3,b5,Bb3,b4,Nd1,Bb7,Ng3,a5,a3,a4,Bc4,Ne5,axb4,Bxb4+,Bd2,Bxd2+,Kxd2,Nxc4+,dxc4,Nxe4+,Nxe4,Bxe4,f3,Bg6,Nc3,O-O,Rxa4,Rxa4,Nxa4,Ra8,b3,Kf8,Re1,Ke7,g3,Kd6,f4,Bf5,Kc3,f6,Rd1+,Kc6,Rd2,h6,Nb2,g5,fxg5,hxg5,Rf2,Ra1,Nd3,Rh1,Nb4+,Kd6,Rd2+,Ke7,Kd4,d6,Nc6+,Kd7,Nb4,e5+,Kc3,Be6,c5,f5,cxd6,cxd6,Na6,f4,gxf4,gxf4,Nc5+,Ke7,Ne4,d5,Ng5,e4,Kd4,f3,Rf2,Kd6,b4,Rd1+,Ke3,Bd7,Rd2,Rb1,Nxe4+,Ke5,Nc5,Bf5,c3,Be4,Nd3+,Kf5,Nf2', 'Re1+,Kd4,Re2,Rd1,Rxf2', 'https://lichess.org/training/cyyg6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CyylJ', 'Classical', 'IcyWizard', 1638, 'derrocador', 1640, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Bb5,Bd6,Bxc6,dxc6,Nc3,O-O,f4,Bb4,h3,b6,Bd2,Bb7,O-O-O,Qe7,a3,Bxc3,Bxc3,Nxe4,Re1,c5,Nf3,Rfe8,Ne5,Nxc3,Qxc3,Qd6,Rhg1,f6,Rd1,Qe6,Ng4,Qf5,g3,Re2,Ne3,Qxh3', 'Qc4+,Kf8,Qxe2', 'https://lichess.org/training/CyylJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cyyXM', 'Rapid', 'markan456', 1919, 'bert_prowel', 1983, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nf3,Bg4,h3,Bh5,Be3,Nbd7,O-O,Be7,Nd2,Bxe2,Qxe2,O-O,Rad1,Rc8,Nc4,Qc7,Nd2,b5,a3,Nc5,f4,Rfd8,Nd5,Nxd5,exd5,Bf6,c3,Re8,Bxc5,Qxc5+,Qf2,exf4,Qxc5,dxc5,Rxf4,Bg5,Re4,Bxd2,Rxe8+,Rxe8,Rxd2,Rd8,d6,Rd7,Rd5,c4,Rc5,f6,Rc6,a5,Rb6,Kf7,Kf2,Ke6,Ke2,g5,Rxb5,Rxd6,Rxa5,Rb6,Ke3,Rxb2,Kd4,h5,Ra6+,Ke7,Kxc4,g4,hxg4,hxg4,Ra7+,Ke6,a4,Rxg2,a5,Ra2,Kb3,Ra1,Kb2,Ra4,Kb3,Ra1,Kb2,Re1,Rg7,Re5,a6,Ra5,a7,g3,Rxg3,Rxa7,Kb3,Rc7,Kb4,f5,c4,Ke5,Rf3,Ke4,Rf1,f4,Kb5,f3,c5,Kd5,Rd1+,Ke4,Kb6,Rc8,c6,f2,Kb7,Rf8,c7,f1=Q', 'Rxf1,Rxf1,c8=Q', 'https://lichess.org/training/cyyXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CYZM1', 'Blitz', 'TryaDery', 2678, 'CM SouthAfricanWolf', 2583, 'd4,Nf6,c4,e6,g3,c5,d5,exd5,cxd5,d6,Nc3,a6,a4,g6,Nf3,Bg7,Bg2,O-O,O-O,Re8,Nd2,h5,h3,h4,g4,Nh7,Nc4,f5,gxf5,Bxf5,e4,Bc8,Bf4,Bf8,e5,dxe5,Nxe5,Qf6,Qd2,Rxe5,Bxe5,Qxe5,Rfe1,Qg7,d6,Nf6,Nd5,Nbd7,Ne7+,Kh7,Qg5,Qh6,f4,Rb8,Re6,Bg7,Nxc8,Rxc8,Bxb7,Rb8,Bxa6,Rxb2,Bb5,Rb3,Kh2,Rb2+,Kh1,Rb3,Qxh6+,Kxh6,Rd1,Rxh3+,Kg2,Rg3+,Kh1,Nf8,Re7,Rh3+,Kg2,Rg3+,Kh1,Ng4,d7,Nf2+,Kh2,Ng4+,Kh1,h3,d8=Q', 'Nf2+,Kh2,Rg2#', 'https://lichess.org/training/CYZM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cYzSF', 'Rapid', 'simbasaj', 1962, 'papadva', 1905, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Bxf2+,Kxf2,Nxe5,d4,Qf6+,Kg1,Ng6,Nd5,Qd8,Bc4,c6,Nc3,N8e7,Bg5,O-O,Qd2,Kh8,h3,f6,Be3,a6,a4,b6,Kh2,Qc7+,g3,f5,Rhf1,fxe4,Rxf8+,Nxf8,Rf1,Nfg6,Nxe4,d5,Qf2,Be6,Ng5,Bg8,Bd3,h6,Nf7+,Bxf7,Qxf7,Qd6,Bf4,Nxf4,Rxf4,b5,Rf6', 'Qxf6,Qxf6,gxf6', 'https://lichess.org/training/cYzSF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CZ2Ir', 'Rapid', 'matt05', 1756, 'inovak', 1855, 'e4,c5,Nf3,d6,c3,Nf6,d3,Nc6,Be2,a6,Bf4,b5,O-O,Bb7,Nbd2,e6,a4,b4,Qb3,Be7,Rfd1,O-O,d4,cxd4,cxd4,Rc8,Rac1,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5', 'Rxc1,Rxc1,Qxd2', 'https://lichess.org/training/CZ2Ir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cZ2kR', 'Blitz', 'FM MrBadbeat', 2315, 'Andre26', 2299, 'd4,Nf6,Nf3,d5,Bf4,c5,e3,Nc6,Nbd2,Qb6,dxc5,Qxc5,c4,Bf5,Rc1,d4,exd4,Nxd4,Nxd4,Qxd4,Be3,Qd7,Be2,e6,O-O,Be7,h3,O-O,Nf3,Qxd1,Rfxd1,Rfd8,Nd4,Bg6,Bf3,Rab8,c5,Be4,Bxe4,Nxe4,b4,a5,a3,axb4,axb4,Rd5,Nb5,Rbd8,Rxd5,Rxd5,f3,Ng3,Rc2,Rd1+,Kf2,Bh4,f4', 'Rf1#', 'https://lichess.org/training/cZ2kR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Cz5ja', 'Rapid', 'pabiano4975', 2028, 'Bowmore17', 1893, 'e4,c6,Nc3,d5,e5,Bf5,d4,e6,f4,h5,Nf3,Bb4,Bd3,Bxc3+,bxc3,Bxd3,cxd3,Nd7,Ba3,Qa5,Qb3,Qa6,Rd1,Nh6,O-O,Ng4,Qb4,O-O-O,Rfe1,Rhe8,Rb1,f6,exf6,gxf6,h3,Nh6,c4,Nf5,cxd5,exd5,Rxe8,Rxe8,Kh2,Re3,Bc1,Rxd3,Qe1,Nxd4,Qe8+,Kc7,Nxd4,Rxd4,Be3,Re4,Qxh5,Rxe3,Rb2,Qc4,Qg4,Re4,Rf2,d4,h4,d3,h5,d2,Rxd2,Nc5,Qg7+,Kb6,Rb2+,Ka6,h6,Rxf4,g3,Rf1,h7,Qe4,Rg2,Qe1,Kh3,Rh1+,Rh2,Qe6+,Kg2,Qd5+,Kh3,Qe6+,g4,Qe3+,Kg2,Qe2+,Kxh1', 'Qf1#', 'https://lichess.org/training/Cz5ja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cZ6o6', 'Classical', 'LaskersBishop', 1805, 'Salty_Fat_Slob', 1787, 'c4,g6,g3,Bg7,Bg2,e5,e3,d6,Ne2,Ne7,O-O,c6,Nbc3,Be6,b3,O-O,Bb2,Qc8,Rc1,Bh3,Ba1,Bxg2,Kxg2,Nf5,d4,exd4,Nxd4,Nxd4,exd4,Nd7,d5,Nf6,h3,Qc7,Re1,Rfe8,Qd2,h6,Rxe8+,Rxe8,Re1,Rxe1,Qxe1,cxd5,Nxd5,Nxd5,Bxg7,Kxg7,cxd5,Qc5,Qd2,a5,Qb2+,Kh7,Qd2,Qb4,Qf4,Qxf4,gxf4,Kg7,Kf3,Kf6,Ke4,b5,a3,Ke7,b4,axb4,axb4,Kf6,h4,Ke7,f5,Kf6,fxg6,fxg6,f4,Ke7,Ke3,Kf7,Ke4', 'Kf6,Kf3,Kf5', 'https://lichess.org/training/cZ6o6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CZ7pc', 'Blitz', 'gross7', 1955, 'Murodjonov_Xondamir', 1968, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nc3,Nxf3+,Qxf3,Qf6,Qd3,Bc5,O-O,d6,Nd5,Qd8,Qg3,g6,d3,h6,Be3,Bb6,Bxb6,axb6,Nc3,Ne7,Qf3,Be6,Bxe6,fxe6,Rad1,Qd7,d4,exd4,Rxd4,O-O-O,Ra4,Kb8,Qe2,Rhf8,Ra3,Rf4,f3,Rdf8,Qc4,g5,Ne2,R4f6,Nd4,g4,Nb5,gxf3,Ra8+,Kxa8', 'Qa4+,Kb8,Qa7+,Kc8,Qa8#', 'https://lichess.org/training/CZ7pc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cz7VL', 'Rapid', 'vieri-32', 1712, 'EncryptedGhost', 1732, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d5,exd5,Qxd5,c3,Nxd4,cxd4,Bb4+,Nc3,Qe6+,Be2,Nf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/cz7VL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CZ89E', 'Blitz', 'Zakharchuk', 2268, 'ugyandani', 2104, 'e4,e5,Nc3,Nf6,Bc4,Nc6,d3,Bc5,h3,O-O,Nge2,d6,O-O,Be6,Bb5,h6,Kh1,a6,Ba4,b5,Bb3,Qd7,Kh2,Nd4,f4,Nxe2,Qxe2,exf4,Bxf4,Bxb3,axb3,Bd4,Kh1,Bxc3,bxc3,Qe6,Rae1,Nd7,Bd2,c5,Rf3,Ne5,Rg3,Kh8,d4,Nd7,e5,cxd4,cxd4,dxe5,dxe5,Rfe8,Bc3,Rac8,Bb2,Rc5,b4,Rc4,Qd2,Qf5,Rf3,Rxc2,Qd1,Qg6,Re2,Rxe2,Qxe2,Qe6,Re3,f6,Rd3,Nxe5,Re3,Qc4,Qh5,Rd8,Rxe5,fxe5,Bxe5,Qxb4', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/CZ89E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CzAhm', 'Rapid', 'motemn128', 1783, 'RajeevSinghbly', 1887, 'e4,c5,Nf3,d6,Bc4,e6,d3,Nc6,a4,a6,O-O,Nf6,Bg5,Be7,Nbd2,O-O,Be3,Ng4,h3,Nxe3,fxe3,d5,exd5,exd5,Ba2,Bf6,c3,Re8,d4,c4,Re1,Bf5,Bb1,Qd7,Nf1,Na5,N3d2,Bg5,Ng3,Bh4,Nxf5,Bxe1,Qxe1,g6,Nh4,Qe7,e4,Nb3,Nxb3,cxb3,e5,Qg5,Nf3,Qf4,Qd1,f6,Qxb3,Qc1+,Kh2,Qf4+,Kh1,Qc1+,Kh2,Qf4+,Kg1,Qc1+,Kf2,fxe5,Qxd5+,Kh8,dxe5', 'Qxb2+,Qd2,Qxa1', 'https://lichess.org/training/CzAhm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('czAYj', 'Rapid', 'pokermario', 1772, 'derad', 1774, 'd4,d5,e3,Nf6,f4,Bf5,Bd3,Ne4,Nd2,e6,g4', 'Qh4+,Kf1,Qf2#', 'https://lichess.org/training/czAYj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cZc28', 'Blitz', 'Peaudepailles', 2635, 'IM Tahaned2015', 2522, 'd4,e6,e4,d5,Nd2,Be7,Ngf3,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,O-O,O-O,Re1,b6,a3,a5,Qe2,Bb7,Nf1,Qc8,Bb1,Ba6,Qc2,f5,exf6,Nxf6,Ng5,cxd4,Nxh7,d3,Nxf6+,Bxf6,Qd1,e5,Bxd3,Bxd3,Qxd3,Qe6,Be3,e4,Qd2,Ne5,Ng3,Rad8,Rad1,Nd3,Rf1,Be5,Ne2,Rf5,Nd4,Rh5,h3,Qg6,f4,Bxd4,cxd4,Rxh3,Bf2,Rh5,f5,Rxf5,Be3,Rdf8,Rxf5,Rxf5,Rf1,Rh5,Rc1,Qg4,Bf2,Nf4,g3,Rh3', 'Qxf4,Qxf4,gxf4', 'https://lichess.org/training/cZc28');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cZD1v', 'Classical', 'Nipsetin', 1814, 'jr152', 1853, 'Nf3,Nc6,g3,e5,Bg2,Bc5,d3,d6,O-O,Nge7,c3,O-O,b4,Bb6,Na3,a6,e3,f5,c4,f4,d4,fxg3,fxg3,Bg4,b5,axb5,Nxb5,exd4,Qb3,dxe3', 'c5+,Kh8,cxb6,e2,Re1', 'https://lichess.org/training/cZD1v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CzD3x', 'Rapid', 'Kvelertak10', 1536, 'Mik-100', 1505, 'c4,e5,Nc3,Bc5,e3,d6,d4,exd4,exd4,Bb6,Nd5,Be6,Nxb6,axb6,Qe2,Qf6,d5,Ra5,dxe6,Re5,exf7+,Kxf7,Be3,Nh6,h3,Rhe8,Nf3,R5e6,g3,Nf5,Qc2,Nxe3,fxe3,Rxe3+,Kd2,Qxf3,Rh2,Qxg3,Qf5+,Kg8,Rf2,Nc6', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/CzD3x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('czdRH', 'Classical', 'alsakr_elaarabi', 1947, 'juventusete', 2004, 'e4,e5,d4,exd4,f4,Nc6,Nf3,Bc5,Bc4,Nf6,Nbd2,O-O,O-O,d6,h3,d3+,Kh1,dxc2,Qxc2,Be6,Bxe6,fxe6,Nb3,Bb6,Bd2,d5,Ng5,Qd7,Rad1,Qe7,exd5,exd5,Rfe1,Qd6,Re6,Qd8,Rxf6,Rxf6,Qxh7+,Kf8,Qh8+,Ke7,Qxg7+,Kd6,Nf7+,Rxf7,Qxf7,Qe7,Qh5,Rg8,Re1,Qg7,Qf3,Qxb2,f5,Ne5,Bb4+,c5,Rxe5,Qxe5,Bd2,Kc6,f6,Rf8,f7,Qe6,Qc3,Rxf7', 'Nd4+,Kd6,Nxe6', 'https://lichess.org/training/czdRH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('czDrY', 'Rapid', 'Bolondro', 1646, 'Ivansaf67a', 1798, 'd4,d5,Bf4,Nf6,h3,e6,e3,Be7,Nf3,O-O,c4,c5,cxd5,Nxd5,Bh2,cxd4,exd4,Bb4+,Nbd2,Nc6,a3,Ba5,b4,Bb6,Nb3,Nc3,Qd3,Nd5,Ne5,Nxe5,Bxe5,f6,Bh2,e5,Nc5,g6,g4,exd4,Qxd4,Re8+,Be2,Bxc5,bxc5,Qe7,Qxd5+,Be6,Qd6,Qxd6,Bxd6,Bc4,O-O,Bxe2,Rfe1,Bf3,Re7,Rxe7,Bxe7,Kf7,Bd6,Rc8,Re1,h5,Re7+,Kg8,Kh2,hxg4,hxg4,b6,Kg3,Bd5,cxb6,axb6,f4,b5,g5,fxg5,fxg5,Rc3+,Kf4,Rf3+,Kg4,Rf1,Re8+,Kf7', 'Rf8+,Ke6,Rxf1', 'https://lichess.org/training/czDrY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cZE8K', 'Rapid', 'shahram2018', 1631, 'Mohammed2468', 1683, 'b3,f6,Bb2,e5,e3,b6,Qf3,Nc6,Bb5,Bb7,Qh5+,g6,Qf3,a6,Be2,Bg7,Nc3,d5,Nxd5,Nb4,Nxf6+,Nxf6,Qxb7,Nxc2+,Kd1,Nxa1,Bxa1,O-O,Bxe5,Rb8,Qxa6,Qd5,Bc4,Rbd8,Bxd5+,Rxd5,Qc4,Rd8,Bxc7,Rc8,e4,Rxc7,Qxc7,Nxe4,Qxb6,Rxd2+,Kc1', 'Bb2+,Kb1,Nc3#', 'https://lichess.org/training/cZE8K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CzfN8', 'Rapid', 'Zancle', 2075, 'erenhanioglu0202', 2087, 'c4,e5,Nc3,Nf6,g3,c6,d4,exd4,Qxd4,Qb6,Qxb6,axb6,Bg2,Bc5,Nf3,d6,O-O,Na6,a3,Nc7,Bg5,b5,Bxf6,gxf6,cxb5,Nxb5,Nxb5,cxb5,b4,Bb6,Rfd1,Ke7,Nd4,Bd7,Bxb7,Ra7,Bc6', 'Bxd4,Bxd7,Bxa1', 'https://lichess.org/training/CzfN8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cZIwf', 'Rapid', 'StoutOx_tourney_only', 1833, 'Ochirbal', 1822, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,d6,Nc3,Nf6,Be2,a6,O-O,O-O,Qd2,Ne5,f3,Qc7,Rac1,Nxc4,Bxc4,Qxc4,Nd5,Qa4,Nxe7+,Kh8,b3,Qd7,Nd5,Nxd5,exd5,Re8,Rc3,Qe7,Re1,Qf6,Bf2,Rxe1+,Qxe1,Bd7,Rc7,Qd8,Rxb7,Rc8,h3,Bh6,Nc6,Bxc6,dxc6,Rxc6,Rxf7', 'Rc1,Qxc1,Bxc1', 'https://lichess.org/training/cZIwf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('czJF5', 'Rapid', 'leoloren', 1826, 'nyimin101', 1741, 'd4,e6,c4,f5,Nc3,b6,e4,Bb7,exf5,exf5,d5,Bb4,Bd3,Qf6,Bd2,Nh6,Qe2+,Kf7,O-O-O,Re8,Qf3,c6,Bxh6,gxh6,Qxf5,Qxf5,Bxf5,Bxc3,bxc3,cxd5,cxd5,Re5,Bxh7,Bxd5,Nf3,Bxf3,gxf3,d5,Rd3,Na6,Rd2,Rc8,Kb2,Rc5,Rhd1,Rb5+,Kc1,Nc7,Bd3,Rc5,f4,Rxc3+,Kb2,Rxd3,fxe5,Rh3,f4,Ke6,Rf1,Kf5,a4,Rh4,Rc2,Ne6,Rc6,Nxf4,e6,Rxh2+,Kb3,Re2,e7,Rxe7,Rxh6,Kg5,Rh8,Rd7,Rg8+,Ng6,Rg1+,Kf5,R8xg6,d4,R6g5+,Kf4,R1g4+,Kf3,Kc2,d3+,Kd2,Kf2,Rg2+,Kf1,Rg1+,Kf2,R5g2+,Kf3,Rg3+,Kf2,Rg7,Rd4,Rxa7,Kxg1,Ra6,Rd6', 'a5,Rd5,axb6', 'https://lichess.org/training/czJF5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CZJsU', 'Rapid', 'om_hadi', 2251, 'ShahUrdiN', 2178, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Nbd7,O-O,Nc5,f3,Be7,Be3,O-O,Bc4,b5,Be2,Bb7,Qd2,Rc8,a3,Qc7,Nd1,Rfd8,b4,Ncd7,Rc1,Ne5,Nf2,Nc4,Bxc4,Qxc4,Nd3,Qc3,Ra1,Qxd2,Bxd2,Rc4,Be3,Rdc8,e5,Nd5,Bf2,dxe5,Nxe5,R4c7,Rfc1,Bf6,Bg3,Rc3,f4,Ne3,a4,bxa4,Rxa4,Nxc2,Nxc2,Rxc2,Rxc2,Rxc2,b5,axb5,Ra7,Bxe5,Rxb7,Bc7,Rxb5,Kf8,f5,Bxg3,hxg3,exf5,Rxf5,g6,Rf3,Kg7,Kh2,f5,Ra3,Kf6,Rb3,Kg5,Ra3,h5,Ra4,Re2,Rb4,Re4,Rb3,Kg4,Ra3,g5,Rb3,f4,gxf4,Kxf4,Ra3,h4,Ra2,g4,Ra3,Ke5,Ra5+,Kf4,Ra3,Ke5,Ra5+,Kd4,Ra4+,Ke3,Ra3+,Kf2,Ra2+,Re2,Ra4,g3+,Kh3,Kf1,Ra1+,Re1', 'Rxe1+,Kxe1,Kxh4,Kf2,Kh3', 'https://lichess.org/training/CZJsU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CzjYJ', 'Rapid', 'AlzirVolpato', 1826, 'Voltaire90', 1858, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nc6,a3,Nf6,Bg5,h6,Bxf6,exf6,Bb5,a6,Ba4,b5,Bb3,Be6,Nge2,Bd6,O-O,O-O,f4,Bg4,Qd2,Bxe2,Nxe2,Bc7,Nc3,Ba5,Qd3,Bb6,Bxd5,Nxd4,Kh1,Rc8,Bb7,Rc7,Bxa6,Re8,Bxb5,Nxb5,Nxb5,Rd7,Qf3,Re3,Qc6,Rd2,Rae1', 'Rxe1,Rxe1,Rd1,Qe8+,Qxe8', 'https://lichess.org/training/CzjYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Czkv8', 'Rapid', 'Siron70', 2014, 'Elpostrero', 2123, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,a5,O-O,h6,Nc3,Nf6,Qe2,Be7,b3,O-O,Bb2,d6,h3,Be6,Rad1,Qc7,Rfe1,Rad8,Rd2,Qc8,Red1,Bxh3,gxh3,Qxh3,Qe3,Qh5,Be2,Qg6+,Qg3,Qh7,Bf3,g5,Kf1,Qg6,Ke2,g4,Bg2,Nh5,Qh2,Nf4+,Kf1,h5,Ne2,Bg5,Ng3,h4,Nf5,h3,Bh1,d5,Bxe5,Nh5,Rd3,Qe6,c4,f6,Nd4', 'Qxe5,Qxe5,fxe5', 'https://lichess.org/training/Czkv8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CZLcd', 'Classical', 'AustinL0926', 2157, 'COUNTERREVOLUTIONAXE', 2245, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nde2,h5,g3,Be7,Bg2,Nc6,O-O,Be6,a4,Qd7,Kh2,h4,g4,g5,Be3,Bxg4,f3,Be6,Bxg5,Rg8,Bxf6,Bxf6,Nd5,Bxd5,exd5,Ne7,Nc3,Bg5,Ne4,Bf4+,Kh1,Rg6,Re1,O-O-O,Qd3,Rdg8,Qe2,Nf5,Qf2,Ng3+,Kg1,Nxe4,Rxe4,Qxh3,Re2,Be3,Kf1,Qh1+,Bxh1', 'Rg1+,Qxg1,Rxg1#', 'https://lichess.org/training/CZLcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cZlEO', 'Classical', 'james3207', 1691, 'Janskak', 1720, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,Be7,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Qg3,O-O,Nd5,Nxe4,Qxe5,Nd6,Nxe7+,Kh8,Bh6,f6,Qxd6,Qxd6', 'Bxg7+,Kxg7,Nf5+,Kg6,Nxd6', 'https://lichess.org/training/cZlEO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cZMkq', 'Blitz', 'FM hectorluis2019', 2364, 'oscaritov2020', 1774, 'e4,e6,d4,Bb4+,Nc3,Bxc3+,bxc3,d6,Nf3,Nc6,Bd3,Nf6,O-O,O-O,e5,Nd5,Bxh7+,Kh8,Ng5,g6,Qd3,Kg7,Qh3,Rh8,Nxe6+,Bxe6', 'Qh6#', 'https://lichess.org/training/cZMkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CzMsU', 'Classical', 'rishad3', 1791, 'Barbarian_Legion', 1900, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,a6,d3,b5,Bb3,Nd4,Nxe5,Nxb3,axb3,b4,Na4,d6,Nf3,a5,Bg5,Be7,Bxf6,Bxf6,O-O,O-O,c3,c5,Qc2,Bg4,Qe2,Re8,h3,Be6,Nd2,g5,Qe3,h5,Qg3,h4,Qf3,Kg7,Kh1,d5,Nxc5,dxe4,Nxe6+,Rxe6,Nxe4,Raa6,Nxf6,Rxf6,Qd1,Rfd6,d4,f5,Qd3,bxc3,bxc3,Kg6,Ra3,Qb6,Rfa1,Kf6,Qc4,Rc6,Qd3,Re6,b4,a4,Rxa4', 'Rxa4,Rxa4,Re1+', 'https://lichess.org/training/CzMsU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CZniS', 'Rapid', 'Mannykiller71', 2140, 'ClubBacau0735520875', 2102, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,d5,Bd2,c5,a3,Bxc3,Bxc3,cxd4,exd4,Nc6,Nf3,O-O,Be2,Ne4,Rc1,Qf6,cxd5,exd5,O-O,Bg4,Ne5,Bxe2,Qxe2,Nxc3,bxc3,Rfe8,f4,Qe6,Qf3,f6,Nxc6,Qxc6,Rfe1,Re4,c4,Rae8,Rxe4,Rxe4,Qc3,Rxf4,cxd5,Qxc3,Rxc3,Rxd4,Rc8+,Kf7,Rc7+,Kg6,Rxb7,a5,Rb5,a4,Kf1,Kf5,Ke2,Ke5,Ke3,Re4+,Kf3,f5,Rb7,g5,Rxh7,Kxd5,Rd7+,Kc4,Rf7,Rf4+,Ke3,Kb3,g3,Rf1,Ke2,Rh1,Rxf5,Rxh2+,Kf3,Kxa3,Rxg5,Kb4,Rg4+,Kb3,Rg8,a3,Rb8+,Kc4,Rc8+,Kd5,Ra8,a2,g4,Ke5,Kg3,Rb2,Ra5+,Kf6,Ra6+,Kg5,Ra5+,Kh6,Ra6+,Kg7,Ra7+,Kf8,Ra8+,Ke7,Ra7+,Ke6,Ra6+,Kd7,Ra7+,Kc8,Ra3,Kd8,Rd3+,Ke8,Re3+,Kf8,Rf3+,Kg8,Ra3,Kg7,g5', 'Rb3+,Rxb3,a1=Q', 'https://lichess.org/training/CZniS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('czntK', 'Blitz', 'abdelalikouyache2020', 2119, 'CM NowInChess', 2210, 'e4,e6,d4,d5,Nc3,Nc6,Nf3,Nf6,Bg5,Be7,Bxf6,Bxf6,Bd3,dxe4,Bxe4,Nxd4,O-O,O-O,Qd3,Nxf3+,Qxf3,c6,Rad1,Qe7,Bd3,g6,Rde1,Bg7,a4,e5,Ne4,f5,Ng3,e4,Bc4+,Be6,Qb3,Bxc4,Qxc4+,Qf7,Qb4,Rfd8,c3,Rd2,f3,exf3,Rxf3,Rad8,h3,Bf8,Qa5,b6,Qa6,Rxb2,Ne4,Qg7,Qc4+,Kh8,Ng5,Rd7,Re8,Rb1+,Kh2,Re7,Ne6,Rxe6,Qxe6,Rd1,Qe2,Rd7,Rfe3,h6,Ra8,Kh7,Ree8,Bd6+,g3,g5,Qe6,Bxg3+,Kxg3', 'Qxc3+,Kh2,Rd2+', 'https://lichess.org/training/czntK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('czpGa', 'Classical', 'Raat', 1674, 'adgawande', 1652, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,Bc5,O-O,O-O,d4,exd4,cxd4,Nxd4,e5,Nxf3+,Qxf3,Ne8,Qg3,g5,Be3,Be7,Nc3,d6,Rad1,c6,Rd4,d5,Bd3,Bc5,Rh4,Bxe3,fxe3,Kg7,Rxh6,Kxh6,Rf3,g4,Qf4+,Kg7,Rg3,Qh4,Bf5,Bxf5,Qxf5,f6', 'Rxg4+,Qxg4,Qxg4+', 'https://lichess.org/training/czpGa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cZPMg', 'Bullet', 'Naox89', 1511, 'jesusangel66', 1575, 'b4,f5,Bb2,Nf6,Nf3,e6,e3,d5,b5,c6,c4,Bd6,cxd5,cxd5,d4,O-O,Nbd2,Nbd7,Be2,Ne4,O-O,Rf6,Nxe4,fxe4,Ne5,Rh6,Bg4,Qg5,Bxe6+,Rxe6,h3,Nxe5,dxe5,Bxe5,Bxe5,Rxe5,g4,Qh4,Kg2,Rg5,f4,exf3+,Qxf3,Bxg4', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/cZPMg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CzpmN', 'Blitz', 'FM Saiiiiii', 2541, 'liad', 2236, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,Nf6,Re1,a6,Bd3,b5,c3,Bb7,Bc2,e6,d4,cxd4,cxd4,Be7,Nbd2,O-O,Nf1,Rc8,Ng3,Nb6,b3,Qc7,Bd3,Qc3,Rb1,Rfd8,Bb2,Qa5,a3,b4,a4,h6,h3,Nh5,Qd2,Nxg3,fxg3,Bg5,Nxg5,Qxg5,Qxg5,hxg5,Kf2,a5,Ke3,f6,Rbc1,Kf7,g4,Ke7,Bb5,Rxc1,Rxc1,Rc8,Rxc8,Nxc8,Bc1,Na7,Bc4,d5,Bd3,Nc8,e5,Nb6,exf6+,gxf6,g3,e5,h4,gxh4,gxh4,e4,Be2,Bc8,Kf4,Nd7,g5,Nf8,h5,Ne6+,Kg3,fxg5,Bg4,Nxd4', 'Bxg5+,Kf7,Bxc8', 'https://lichess.org/training/CzpmN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('czTDz', 'Rapid', 'takadimi', 1661, 'andychem70', 1698, 'd4,Nf6,c4,e6,Nf3,d5,g3,c6,Bg2,dxc4,O-O,Bd6,Nc3,O-O,e4,Bb4,Re1,Nbd7,Qa4,Qa5,Qxa5,Bxa5,Bd2,Bxc3,bxc3,Re8,Bf1,b5,Bf4,Bb7,Ne5,Nxe5,Bxe5,Nd7,Bd6,f6,f4,e5,Bh3,Rad8,Bxd7,Rxd7,fxe5,fxe5,Bxe5,c5,Rab1,a6,a4,cxd4,cxd4,Bc6,axb5,axb5,d5,Rxe5,dxc6,Rc7,Rb4,Rxc6,Kf2,c3,Rc1,Kf7,Rc2,Ke6,Ke3,g5,Kd4,Rc4+,Rxc4,bxc4,Rxc3,h5,Rxc4,Rb5,Rc5', 'Rxc5,Kxc5,Ke5', 'https://lichess.org/training/czTDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CzuUe', 'Rapid', 'yanoviz', 1800, 'quijotededune', 2113, 'e4,Nf6,e5,Nd5,d4,d6,exd6,cxd6,Nf3,g6,Bc4,Nb6,Bb3,Bg7,c3,O-O,O-O,Nc6,Re1,Bg4,h3,Bxf3,Qxf3,e5,Be3,Na5,Nd2,Nxb3,axb3,Re8,Qxb7,Re7,Qf3,exd4,Bxd4,Bxd4,cxd4,d5,Qd3,a6,Nf3,Rxe1+,Rxe1,Nd7,Ne5,f6,Nc6,Qc7,Nb4,Qd6,Nc2,f5,Ne3,Nf6,f3,Rc8,Ra1,Rc6,Ra5,Rc1+,Kf2,Nh5,Qd2', 'Qg3+,Ke2,Nf4#', 'https://lichess.org/training/CzuUe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CZv90', 'Blitz', 'Mitja_Mihajlovic', 1683, 'olszju', 1694, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,b3,g6,Bb2,Bg7,Bd3,Bd7,O-O,Nc6,Nxc6,Bxc6,Nd2,O-O,c4,Rc8,Rc1,Qa5,Bb1,Nxe4,Nxe4,Bxb2,Qe1,Qe5,Rd1,Rfd8,Qd2,Bxe4,Bxe4,Qxe4,Rfe1,Qg4,Qxb2,Rc5,Qa3,Rg5,g3,Qh3,Rxe7,Rh5,Rxd6,Qxh2+,Kf1,Qh1+,Ke2,Rxd6,Qxd6,Rf5,Qd4,Qf3+,Ke1,Qh1+,Ke2,Qf3+,Ke1,h6', 'Re8+,Kh7,Qh8#', 'https://lichess.org/training/CZv90');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CZvtC', 'Blitz', 'AryehM', 2213, 'Boydia', 2347, 'd4,d5,Nc3,c6,Bf4,Bf5,e3,Nf6,f3,e6,g4,Bg6,h4,h6,Bd3,Bd6,Nh3,Bxd3,Qxd3,Qc7,Bxd6,Qxd6,Nf4,Nbd7,O-O-O,O-O-O,Kb1,e5,dxe5,Nxe5,Qf5+,Kb8,g5,Nh5,Nxh5,g6,Qf6,gxh5,Ne4,Qxf6,Nxf6,Nxf3,Rh3,Ne5,Rf1,hxg5,hxg5,Ng4,Rxh5,Rxh5,Nxh5,Ne5,Rf5,Re8,Nf6,Re7', 'Rxe5,Rxe5,Nd7+,Kc7,Nxe5', 'https://lichess.org/training/CZvtC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CZXsM', 'Classical', 'mtgholampor', 1772, 'bigorna', 1679, 'e4,e5,Nf3,g6,Nxe5,Nf6,d3,d6,Nf3,Nc6,c3,b5,Be2,Qe7,O-O,Bg7,Re1,Bb7,Bf1,O-O-O,g3,h5,h4,Bh6,Bxh6,Rxh6,Ng5,Ne5,Bg2,d5,exd5,Nxd5,d4,Qe8,Rxe5,Qc6,Nxf7,Rdh8,Nxh6,Rxh6,Qf3,Qd6,Rxd5,Bxd5,Qxd5,Qe7,Qa8+,Kd7,Na3,g5,Nxb5,gxh4,Qc6+', 'Rxc6,Bxc6+,Kxc6', 'https://lichess.org/training/CZXsM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('cZxV5', 'Rapid', 'mifta95', 1922, 'germanwani', 1915, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,d6,O-O,Be7,d3,O-O,Re1,h6,h3,a6,Bc4,Na5,Bb3,Nxb3,axb3,b6,d4,exd4,Nxd4,Bb7,f4,c5,Nf5,Qd7,Nxe7+,Qxe7,Nd5,Nxd5,exd5,Qf6,c4,b5,Qc2,b4,f5,Bc8,Rf1,Re8,Bd2,Re5,g4,Re2,Rae1', 'Qd4+,Kh1,Rxd2', 'https://lichess.org/training/cZxV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('czZGU', 'Classical', 'clovedoper', 1879, 'Madaraa_Utshiha', 2024, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,a6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qb6,d4,Bg4,h3,Bxf3,gxf3,Bb4,Bd2,O-O-O,Qe2,Rhe8,O-O-O,Rxd4,Na4', 'Bxd2+,Rxd2,Rxa4', 'https://lichess.org/training/czZGU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('CZZs9', 'Rapid', 'slawamix', 1625, 'Marialena1993', 1645, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,d3,Bg4,h3,Bh5,Bg5,h6,Bh4,d5,g4,g5,Bg3,Nxg4,Bxc6+,bxc6,hxg4,Bxg4,Nbd2,dxe4,Bxe5,Rg8,Nxe4,Be7,Kg2,f6,Bg3,f5,Ned2,f4,Bh2,Qd7,Re1,Bh3+,Kg1', 'Qg4+,Bg3,fxg3,Rxe7+,Kxe7', 'https://lichess.org/training/CZZs9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D03WT', 'Rapid', 'exmark', 1748, 'Rilikva', 1759, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,h6,d4,exd4,Nxd4,Bd7,Nf3,Nf6,e5,dxe5,fxe5,Ng4,Qe2,Bc5,Bf4,O-O,Nc3,Nd4,Nxd4,Bxd4,e6,fxe6,Qxg4,Kh8,Bxh6,Qf6,Rf1,Bxc3+,bxc3,Qxh6,h3,Rxf1+,Kxf1,Rf8+,Kg1,Qf6,Qg3,Qd8,Rd1,c6,Bxe6', 'Qb6+,Kh2,Bxe6', 'https://lichess.org/training/D03WT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d0Bqh', 'Rapid', 'lungmuana', 1608, 'putingm', 1636, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nd4,Bxd5+,Ke7,Qf7+,Kd6,O-O,Be6,Bxe6,Nxe6,d4,Nxd4,Ne4+,Kc6,Rd1', 'Ne2+,Kf1,Qxd1#', 'https://lichess.org/training/d0Bqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d0Cyw', 'Rapid', 'Juragobi44', 1808, 'Marnitz70', 1904, 'e4,c5,c3,e5,d4,cxd4,Bc4,Nc6,Nf3,Be7,Qb3,Nf6,Bxf7+,Kf8,Ng5,Na5,Qc2,h6,Nf3,Kxf7,Nxe5+,Kf8,Ng6+,Kg8,Nxh8,Kxh8,cxd4,d5,Bd2,Nxe4,O-O,Nc6,Be3,Nb4,Qb3,Bf5,Nd2,Nxd2,Bxd2,Nc2,Rac1,Nxd4,Qd1,Qb6,Re1,Bc5,Be3,Re8,Qd2,Be4,Red1,Qg6,Bg5,hxg5,Rxc5,Qh5', 'Qxd4,Qg4,f3,Bxf3,Qxg4', 'https://lichess.org/training/d0Cyw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d0e44', 'Rapid', 'Kroywen92', 1689, 'rushi5032', 1675, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Qe2,O-O,Qxe4,c5,Nf3,Nc6,O-O-O,b6,Bb5,Bb7,Bxc6,Bxc6,Qxc6,Rac8,Qa4,Rfd8,c3,Qd7,Qxd7,Rxd7,h4,h5,Rhg1,cxd4,Nxd4,Rd5,f4,f6,g4,fxe5,fxe5,hxg4,Rxg4,Rc4,Nxe6', 'Rxd1+,Kxd1,Rxg4', 'https://lichess.org/training/d0e44');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D0f6D', 'Rapid', 'ekhwanelssafa', 1812, 'mindovermatterMANA', 1791, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,Bg4,Nc3,g6,O-O,Bxf3,Qxf3,Nd4,Qf2,a6,f5,g5,d3,Nf6,Bxg5,Rg8,Bh4,Bh6,Bxf6,exf6,Nd5,b5,Bb3,Bg5,c3,Nxb3,axb3,h5,h4,Bh6,Qf3,Bg7,Qxh5,Rc8,Qh7,Kf8,Qh5,Rh8,Qg4,c4,bxc4,bxc4,dxc4,Rxc4,Rxa6,Qc8,Rfa1,Qc5+,Kh1,Qxd5,exd5,Rxg4', 'Ra8+,Ke7,R1a7#', 'https://lichess.org/training/D0f6D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d0GCB', 'Rapid', 'quiet_moves', 1876, 'hpoli2000', 1909, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,Nbd7,Nbd2,Be7,c3,O-O,Bd3,c5,Qc2,cxd4,exd4,h6,Ne5,Nxe5,Bxe5,Ng4,Nf3,f5,Bf4,Nf6,Ne5,Qe8,Be2,Bd7,h4,a6,h5,Bb5,f3,Bxe2,Qxe2,Bd8,Bd2,Nxh5,Qf2,f4,O-O-O,Ng3,Rh3,Bg5,Re1,Nf5,Nd3,Rc8,Nb4,Qf7,Nd3,Qf6,Nc5,Rxc5,dxc5,Bh4,Qe2,Bxe1,Bxe1,Ne3,c6,bxc6,Qxa6,Nxg2,Bd2,Ne3,Qxc6,Qf5,Bxe3,Qxh3,Bd4,Qxf3,Qxe6+,Kh8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/d0GCB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D0HzA', 'Rapid', 'MazTok_an', 1800, 'Rimaati', 1798, 'd4,d6,Nf3,Bd7,Nc3,c5,dxc5,dxc5,e4,e6,Bd3,a6,O-O,Nf6,Bg5,Be7,Ne5,Bc8,Qf3,O-O,Bxf6,Bxf6,Ng4,Be7,e5,Nd7,Rad1,Qb6,Qh3,g6,Ne4,Qxb2,Ngf6+,Nxf6,exf6,Bxf6,Rb1,Qe5,f4,Qd4+,Kh1,Bg7,Ng5,h6,Nf3,Qxf4,Nh4,Qg5,Nf3,Qd5,Rbd1,Qxa2,Nh4,e5,Qg3,c4,Bxg6,fxg6', 'Rxf8+,Bxf8,Qxg6+', 'https://lichess.org/training/D0HzA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d0kWT', 'Rapid', 'radoleg', 1607, 'AKakaAK', 1603, 'd4,d5,h3,Nf6,e3,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,c6,O-O,Nbd7,a3,Bd6,Nc3,O-O,e4,Nh5,e5,Be7,g4,f6,gxh5,fxe5,dxe5,Bh4,Nxh4,Qxh4,Qg3,Qxg3+,fxg3,Nxe5,Rxf8+,Rxf8,Bf4,Nf3+,Kf2,Ng5,Kg2,Ne4,Nxe4,dxe4,Be3,b6,b4,Rf5,c4,Rxh5,Rd1,Kf7,Rd7+,Kf6,Rxa7,b5,c5,Ke5,Rc7,Kd5,Rxg7,Kc4,g4,Rd5,Rxh7,Rd3,Kf2,Rxa3,g5,Ra2+,Kg3,Kxb4,g6,Ra8,g7,Rg8,h4,Kc4,h5,Kd3,Bg1,e3,h6,e2,Kf2', 'Kd2,Kg2,e1=Q', 'https://lichess.org/training/d0kWT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d0LbA', 'Rapid', 'AlMal316', 1852, 'Vadim52', 1936, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,Nxc3,bxc3,Bf5,h3,e6,Ne2,Bd6,O-O,Nc6,d3,O-O,f4,Na5,Bb5,c6,Ba4,b5,Bb3,Nxb3,cxb3,Qc7,Ng3,Bg6,Ne4,Be7,Qf3,Rad8,d4,c5,Be3,c4,b4,Rd5,Rae1,a5,a3,axb4,axb4,Ra8,g4,f5,Ng3,fxg4,hxg4,Rf8,Bd2,Qd7,f5,exf5', 'Rxe7,Qxe7,Qxd5+', 'https://lichess.org/training/d0LbA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D0lSt', 'Rapid', 'leero', 1716, 'Williekay', 1683, 'e4,c5,Nf3,Nc6,d4,Nxd4,Nxd4,cxd4,Qxd4,e6,Bc4,b6,Bb3,Bb7,f3,Bc5,Qxg7,Qf6,Qxf6,Nxf6,Bg5,Nh5,g4,Ng7,Bf6,Rg8,h4,Rc8,Nd2,Be3,Nc4,Bf4,Rh3,Ba6,Ne5,d6,Nd3,Bxd3,cxd3,e5,Ba4+,Kf8,Bd7,Rc7,Bb5,Ne6,h5,Nd4,Ba4,b5,Bd1,Nc2+,Bxc2,Rxc2,h6,Rg6,Bg7+,Kg8,b3,Rg2,a4', 'Rg1+,Ke2,Rxa1', 'https://lichess.org/training/D0lSt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d0nG8', 'Classical', 'ba_ba51', 1788, 'TioRico', 1811, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,c6,d4,g6,Bd2,Qc7,Bc4,e6,O-O,Bg7,Ne5,Nf6,Bg5,O-O,Qf3,Nd5,Nxd5,cxd5,Bd3,Nd7,Be7', 'Nxe5,dxe5,Qxe7', 'https://lichess.org/training/d0nG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d0o7c', 'Classical', 'LukaCro', 1750, 'MrScribbles', 1771, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bg5,h6,Bh4,g5,Bg3,Nxe4,Qd4,Nxc3,bxc3,Qe7+,Be2,O-O,cxb4,Ba6,c4,Rfe8,Qd3,Qxb4+,Kf1,Bxc4', 'Qxc4,Qxc4,Bxc4', 'https://lichess.org/training/d0o7c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D0oeo', 'Rapid', 'catur2019', 1751, 'Ronald11235', 1784, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Nxe5,d5,Qf3,Be6,Bb3,Bd6,d4,c5,c3,Nc6,Be3,c4,Bc2,Nxe5,dxe5,Bxe5,Bxe4,dxe4,Qxe4,Qd6,Nd2,Bd5,Qg4,b5,O-O-O,O-O,Ne4,Qc6,f3,f5,Qg5,h6,Qh5,Bxe4,fxe4,Qxe4,Bc5,Bf4+,Rd2,Rfd8,Bd4,Bxd2+,Kxd2,Qd3+,Kc1,Qe4,Qg6,Qg4,Qe6+,Kh8,g3,Qf3', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/D0oeo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d0rpd', 'Classical', 'earlmiddleton40', 1856, 'tariqDC', 1803, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Be2,Bf5,d3,e6,Bd2,c6,Ne4,Qd8,Bg5,Nbd7,Nxf6+,Nxf6,c3,Be7,Nd4,Bg6,Qb3,Rb8,Qa4,a6,O-O,O-O,Qd1,Qc7,Bxf6,Bxf6,Nf3,Rbd8,d4,c5,Qb3,cxd4,cxd4,Bxd4,Nxd4,Rxd4,Bf3,b5,Rac1,Qb6,Rc6,Qa7,Qa3,Ra4,Qb3,h6,h3,Qd4,Rd1,Qf6,a3,Rf4,Rxa6,Rc4,Qxb5,Rc2,b3,Qb2,Rf1,Rc3,Rb6', 'Bd3,Qe5,Bxf1', 'https://lichess.org/training/d0rpd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D0vPv', 'Rapid', 'Fuirio', 1727, 'mat_w_jednym-ruchu', 2003, 'b4,c6,e3,d5,Bb2,Bf5,Ne2,e6,Ng3,Bg6,h4,h6,h5,Bh7,a4,Bxb4,Bxg7,Bd6,Ne2,Ne7,Bxh8,Nf5,g4,Ne7,Bf6,Nd7,Bh4,Qc7,Nbc3,O-O-O,Nd4,Rg8,f3,Bg3+,Bxg3,Qxg3+,Ke2,Ne5,Rh3,Qg1,Qe1,f5,Rg3,Qh2+,Rg2,Qh1,Nxe6,fxg4,fxg4,Rxg4,Qf2,Rxg2,Bxg2,Qxh5+,Kf1,Nf5,Nf4,Qh2,d4,Nc4,Re1', 'Ng3+,Qxg3,Qxg3', 'https://lichess.org/training/D0vPv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d0VQe', 'Blitz', 'NM Loy_Konstantin', 2319, 'Full_Bezerk', 1913, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,Bc4,Be7,a4,O-O,O-O,c6,Ba2,a5,Re1,Qc7,h3,Re8,Be3,Bf8,Nh4,g6,Qf3,Bg7,Rad1,Nf8,dxe5,dxe5,Bg5,Nh5,Bd8,Rxd8,Rxd8,Qxd8', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/d0VQe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d0XrC', 'Rapid', 'Akitos17', 2131, 'Braindrain', 2036, 'e4,c5,Nc3,e6,f4,d5,d3,Nc6,h3,Nge7,Nf3,g6,g4,Bg7,Bg2,Nd4,Nxd4,Bxd4,e5,Nc6,Ne2,c4,Nxd4,Nxd4,c3,Nc6,dxc4,dxc4,Qe2,Qh4+,Qf2,Qxf2+,Kxf2,Bd7,Be3,a6,Rad1,O-O-O,Bb6,Rdg8,Rd6,h5,g5,Ne7,Rhd1,Nd5,Bxd5,exd5,R1xd5,Bxh3,Rc5+,Kb8,Rxc4,Be6,Rcd4,Rc8,a3,Rc4,Ke3,Rxd4,cxd4,h4,d5,h3,dxe6,h2,e7,h1=Q', 'Rd8+,Rxd8,exd8=Q#', 'https://lichess.org/training/d0XrC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D13uX', 'Rapid', 'Almver', 2070, 'OkomamaTimor', 2082, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,Bd6,Bg3,c6,Bxd6,Qxd6,Ne5,Nbd7,f4,O-O,Nd2,c5,c3,Rd8,Bb5,a6,Bxd7,Bxd7,O-O,cxd4,exd4,Bb5,Rf3,Rac8,Qe1,Nd7,Nxd7,Qxd7,Rh3,f6,Qh4,h6,Re1,Qf7,Rg3,Kh7,Qg4,Re8,Rge3,Bd7,Qe2,Qg6,Nb3,Bb5,Qf3,b6,a3,Bc4,Nd2,Bb5,Qg3,Qc2,Nf3,Qxb2,Nh4,Qc2,f5,e5,Qg6+,Kg8,dxe5,Rxe5', 'Rxe5,fxe5,Qe6+,Kh7,Qxc8', 'https://lichess.org/training/D13uX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D140U', 'Rapid', 'Anton_Kutsenko', 1740, 'kazemorabi', 1738, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,d4,exd4,Qxd4,Nc6,Qd1,Bg4,O-O,Be7,Re1,O-O,h3,Bh5,a3,Na5,Bd3,c5,Nd5,Nxd5,exd5,Bf6,Rb1,b6,c4,Qd7,Qc2,Bxf3,gxf3,Qxh3,Bf4,Be5,Bxe5,dxe5,Bf5,Qxf3,Rxe5,Qf4,Rbe1,Qg5+,Kf1,Qh4,R1e4,Qh1+,Ke2,Qh5+,Ke3,Qg5+,Kf3,Qh5+,Bg4,Qh1+,Kg3,Qg1+,Kf3,Qh1+,Ke2,Nb7,Rh5,Qg1,Kd3,Nd6,Rf4,Qf1+,Be2,Qg2,Rg4,Qxf2,Kc3,Rae8,Bd3,Qe1+,Kb3,a5,Rxh6,Re3,Rxg7+,Kxg7,Rh7+,Kg8,Qg2+,Rg3,Qh2,Qd1+,Ka2,Qxd3', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/D140U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1BYX', 'Blitz', 'GORILLA_PUNCH', 2218, 'dosglimmerblinkin', 1708, 'e4,c5,c3,Nf6,e5,Nd5,d4,e6,f4,Nc6,Nf3,d6,Be2,dxe5,fxe5,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O,Ndb4,a3,Nd5,Nc3,Nxc3,bxc3,Bd7,Bd3,Ne7,Ng5,h6,Ne4,Nf5,Rac1,Qa5,Kh1,Bc6,Rxf5,exf5,Nf6+,Kh8,Bxf5,Rad8,Qe3,Qxa3,Rf1,Qb2,Rg1,Qa2,Ng4,g5,Bb1,Qe6,Nf6,Rg8,Qe2,Rg6,Bxg6,fxg6,Qe3,Kg7,Rb1,a6,Rd1,b5,Qe2,a5,h3,a4,Qe3,a3,c4,bxc4,Qxa3,Bd5,Qa7+,Rd7,Qc5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/d1BYX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D1fbT', 'Rapid', 'HomelessBumOnWiFi', 1823, 'Blek37', 1865, 'Nc3,d5,e4,d4,Nce2,e5,Ng3,c5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d3,Bd6,Nh4,g6,Bd2,a6,a3,b5,Ba2,a5,Qc1,Qe7,Bxh6,Be6,Bxe6,Qxe6,Qg5,Be7,Qd2,Nd7,Nf3,O-O-O,b4,a4,bxc5,Bxc5,Rab1,Na7,c3', 'dxc3,Qxc3,Rxh6,d4,exd4', 'https://lichess.org/training/D1fbT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1fcO', 'Rapid', 'Rabbo1', 1616, 'VDanielPUC', 1646, 'c4,Nf6,Nc3,e6,e4,Bb4,e5,Bxc3,bxc3,Ne4,Qg4,Ng5,Nf3,Nxf3+,Qxf3,c5,Be2,Nc6,d4,cxd4,cxd4,Nxd4,Qd3,Nxe2,Qxe2,O-O,O-O,d5,Ba3,Re8,Rad1,Qa5,Bd6,dxc4,Ra1,Bd7,Rfc1,b5,a4,Qb6,Rab1,a6,Rxc4,Qa5', 'Bc7,bxc4,Bxa5', 'https://lichess.org/training/d1fcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D1hrq', 'Rapid', 'Gato_Pala', 2032, 'puc0420', 2137, 'e4,e6,d4,d5,Nc3,Bb4,Bd3,Ne7,a3,Bxc3+,bxc3,O-O,f4,c5,e5,Nbc6,Nf3,Bd7,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,f5,exf6,Rxf6', 'Nxe6+,Kf7,Nxd8+', 'https://lichess.org/training/D1hrq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1mMk', 'Rapid', 'farnaz-sh65', 1715, 'EngKnight', 1913, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nf6,Nc3,Bb4,Bd2,O-O,f4,Bxc3,bxc3,Nxe4,Nf3,Nc6,Bd3,Nxd2,Qxd2,b6,O-O,Bb7,f5,Rc8,Qf2,d6,Qg3,exf5,Bxf5,Rc7,Ng5,h6,Be4,d5,Bxd5,hxg5,Rf5,Rd7,Qf3,Ne7,Bxf7+,Rxf7,Rxf7,Ng6,Rxd7,Qxd7,Qf2,Nh4,Rf1,Bxg2', 'Qf8+,Kh7,Rf7,Qxf7,Qxf7', 'https://lichess.org/training/d1mMk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1mnI', 'Rapid', 'ezgame', 1746, 'octopus0', 1839, 'e4,e5,f4,d5,Nf3,exf4,exd5,Bg4,d4,Qxd5,Nc3,Qe6+,Be2,Bxf3,gxf3,Bb4,Bxf4,Nf6,a3,Ba5,b4,Bb6,Rg1,Nbd7,Nb5,O-O-O,Rxg7,Nh5,Rg4,Nxf4,Rxf4,a6,Re4,Qh3,a4,axb5,a5,Nf6,axb6,cxb6,Re7,Nd7,Bxb5', 'Qh4+,Kf1,Qxe7', 'https://lichess.org/training/d1mnI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1orf', 'Rapid', 'Xiao_Yang', 1783, 'aqueno', 1695, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,O-O,d5,exd5,Nxd5,Bxd5,Qxd5,Nc3,Qd4,Nb5,Qd8,Qh5,Bf5,Ne4,Bxe4,dxe4,Qf6,Qg4,Qg6,Qxg6,fxg6,Nxc7,Rac8,Ne6,Rxf2,Rxf2,Bxf2+,Kxf2,Re8,Nc7,Re7,Nd5,Rf7+,Kg1,Nd4,c3', 'Ne2+,Kh1,Rf1#', 'https://lichess.org/training/d1orf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1rFi', 'Classical', 'revoof', 1811, 'modakshantanu', 1805, 'd4,Nf6,c4,d5,cxd5,Nxd5,Nf3,Bf5,Qb3,Bc8,e4,Nf6,Nc3,c6,Bc4,e6,O-O,Be7,Bg5,O-O,Rad1,Qc7,Bd3,b6,Rc1,Qd7,Rfd1,Bb7,Bb1,h6,Bh4,Qd8,Qc2,g6,Ne5,g5,Bg3,Kg7,h4,g4,Nc4,Rh8,e5,Nd5,Nxd5,cxd5,Ne3,h5,Qc7,Ba6,a3,Nd7,Rc3,Re8,Rdc1,Qxc7,Rxc7,Rec8,Bd3,Bd8,Rxc8,Rxc8,Rxc8,Bxc8,Bb5,Nf8,f3,gxf3,gxf3,a6,Be2,Ng6,Ng2,b5,Kh2,Bd7,Kh3,Bb6,Bf2,Nxe5,Nf4,Kh6,Be3,Ng6', 'Nxd5+,Kg7,Nxb6', 'https://lichess.org/training/d1rFi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1TsD', 'Rapid', 'vx9mcz', 1841, 'AGR_BE', 1861, 'g4,d6,c4,Bxg4,Bg2,c6,d4,g6,Bg5,Bg7,h3,Bd7,Nc3,Qb6,Na4,Qb4+,Bd2,Qxc4,Qb3,Qxb3,axb3,Bxd4,Bc3,Bxc3+,bxc3,b5', 'Nb6,a6,Nxa8', 'https://lichess.org/training/d1TsD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1uzK', 'Rapid', 'SimplebeginneR', 1645, 'user4387', 1536, 'd4,d5,c4,e6,e3,Nf6,a3,Bd7,c5,Ne4,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/d1uzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D1V51', 'Classical', 'CesArAr', 1875, 'sega_mur', 1961, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,Nf6,cxd5,cxd5,Bg5,e6,Qb3,b6,e3,Be7,Bb5+,Nbd7,O-O,O-O,Bf4,a6,Be2,b5,Nh4,Bg6,Nxg6,fxg6,Bd3,Nh5,Ne2,Bg5,Bg3,Nb6,e4,Nc4,e5,Nd2,Qc2,Rc8,Qd1,Nxf1,Qxf1,Nxg3,Nxg3,Bh4,Be2,Rc2,Bg4,Qe7,Bf3,Rxb2,a4,Bxg3,hxg3,Qb4,axb5,Qxb5,Qd1,Rb8,Kh2,Rxf2,Bg4,Qb6,Kg1,Rb2,Kh2,a5,Qa4,Rb4,Qd7,Rxd4,Bxe6+,Kh8,Rc1,Qd8,Qf7,Qg5,Rc7,Qh6+,Bh3,Rc4,Ra7,a4,e6,Rcc8,e7,g5,Rc7,Rg8,Qxd5,g4,Rb7,Rxb7', 'Qxg8+,Kxg8,e8=Q#', 'https://lichess.org/training/D1V51');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1vAY', 'Blitz', 'FM Blitzking64', 2452, 'hitokiribattosai', 2081, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nd4,Nxd4,Bxd4,c3,Bb6,d4,c6,Ba4,exd4,cxd4,d5,exd5,Qxd5,Re1+,Be6,Be3,Nf6,Bb3,Qf5,Bxe6,fxe6,Nc3,O-O,h3,Nd5,Qd2,Rf6,Re2,Rg6,Kh1,Rf8,Nxd5,exd5,f4,Bc7,Rf1,Rg3,Kh2,Qg6,Rff2,Re8,Re1,Rg5,g4,Qe6,Kh1,Qe4+,Rg2', 'Bxf4,Bxf4,Qxe1+', 'https://lichess.org/training/d1vAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1whA', 'Rapid', 'C2thehris', 1614, 'BahadirMatus', 1660, 'e4,e5,Nf3,Bc5,Nxe5,Qh4,g3,Qxe4+,Qe2,Qxh1,Ng6+,Ne7,Nxh8,Kf8,d4,Bd6,Nc3,Kg8,Be3,Kxh8,O-O-O,Qxh2,Bf4,Bxf4+,gxf4,Qxf4+,Kb1,Ng8,Qe8,Nc6,Re1,b6', 'Qxg8+,Kxg8,Re8#', 'https://lichess.org/training/d1whA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1Wnu', 'Rapid', 'GlennKeyes', 1624, 'eslam1984', 1606, 'd4,Nf6,Bf4,d6,c3,Nc6,e3,e6,Nf3,Be7,Nbd2,O-O,Bb5,Bd7,a4,a6,Bd3,e5,Bg3,exd4,cxd4,Bg4,O-O,d5,h3,Bh5,Qb3,Ne4,Nxe4,dxe4,Bxe4,Rb8,Qa2,Bd6,Bh4,Qd7,Qb1,f5,Qa2+,Kh8,Bd5', 'Nb4,Qb3,Nxd5', 'https://lichess.org/training/d1Wnu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1Xov', 'Classical', 'Chinaski_hate_me', 2083, 'duchamp89', 1813, 'Nf3,d5,g3,Nf6,Bg2,e6,O-O,c5,c4,Be7,d4,O-O,Nc3,dxc4,dxc5,Nc6,Bf4,Bxc5,Nb5,Nd5,Qc2,Nxf4,gxf4,a6,Qxc4,Bxf2+,Rxf2,axb5,Qxb5,Ra5,Qb3,Qf6,e3,Rd8,Rd1,Rad5,Rfd2,Ne7,Qb6,Rxd2', 'Qxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/d1Xov');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D1yj0', 'Blitz', 'guy_chaimy', 1790, 'PANK-007', 1724, 'e4,e5,Nc3,Nc6,Bc4,d6,d3,Be7,f4,Nf6,Nf3,Bg4,O-O,O-O,h3,Bxf3,Qxf3,Na5,Bb3,Nxb3,axb3,c6,fxe5,dxe5,Bg5,Qd7,Qg3,Qe6,Rf3,Nh5,Qh4,Bxg5,Qxg5,Nf6,Raf1,Kh8,Ne2,a5,Ng3,Rg8,Nf5,a4,bxa4,Rxa4,b3,Ra2,R1f2,b6,Kh2,c5,Rg3,Ra7,Ne3,Rd7,Nc4,Re7,Rf5,Nd7,Ne3,f6,Qh4,Nf8,Nd5,Rb7,Qg4,Ng6,h4,Ne7,Nxe7,Qxe7,h5,h6,Rgf3,Qf7,Rg3,b5,Qh3,Rc7,Rg6,Rb7,Rf3,Rc7,Rfg3,b4,Qg4,Kh7,Qf5,Kh8,Qg4,Qe7', 'Rxh6+,gxh6,Qxg8#', 'https://lichess.org/training/D1yj0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d1zYl', 'Rapid', 'FLINT27', 1677, 'peterjma', 1691, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Bb5,Qb6,Nc3,Bd7,Be3,a6,Bxc6,Bxc6,b3,Qc7,dxc5,Ne7,Qd2,Ng6,Ne2,Bb5,a4,Bxe2,Qxe2,Bxc5,O-O,Be7,Nd4,Nxe5,Bf4,Bd6,g3,Ng6,Bxd6,Qxd6,Rad1,O-O,Nf3,Qe7,Ne5,Nxe5,Qxe5,Rac8,Rc1,f6,Qe3,Qf7,Rfe1,Rfe8,h4,Rcd8,c4,d4,Qd3,e5,c5,f5,c6,bxc6,Rxc6,e4,Qxa6,Ra8,Qc4,Qxc4,Rxc4,d3,Rd1,Rad8,Kf1,e3,fxe3,Rxe3,Kf2,Rde8,Rc3,Re2+,Kf1', 'd2,Rxd2,Rxd2', 'https://lichess.org/training/d1zYl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d22tJ', 'Rapid', 'ghoonney', 1705, 'morningsun', 1814, 'Nf3,Nf6,Nc3,d5,e4,dxe4,Ng5,Bf5,Qe2,Qd4', 'Qb5+,Nbd7,Qxf5', 'https://lichess.org/training/d22tJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d23Vt', 'Rapid', 'ferrucciolari', 1743, 'Kacperek', 1679, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,Bb4,Bd3,d5,exd5,Nxd5,Bd2,Nxd4,Nxd5,Bxd2+,Qxd2,Qxd5,c3,Qe5+,Kf1,Nc6,Re1,Qf6,h4,h6,h5,O-O,Rh3,e5,Rg3,Be6,Qc2,Qd8,Qd2,Qf6,Ree3,Kh8,Ref3,Qe7', 'Rxg7,Kxg7,Rg3+,Qg5,Rxg5+', 'https://lichess.org/training/d23Vt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d24ao', 'Rapid', 'ismaelroudan', 1983, 'Akaihige', 1954, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,h6,Bh4,a6,a3,b5,Ba2,Be7,h3,d5,Nbd2,d4,Qe2,Nh5,Bg3,Nxg3,fxg3,Bg5,O-O,Be3+,Kh2,O-O,Nh4,Be6,Bxe6,fxe6,Ng6,Rf6,Nh4,Qe7,Nb3,Raf8,Rxf6,Rxf6,Qg4,Bg5,Nf3,Be3,Nh4,Rf2,Ng6,Qf7,Nc5,Kh7,Nh4,Rxc2,Nxe6,Bg5,Nxg5+,hxg5,Qxg5,Rxb2,Rc1,Na5,Qxe5,c6,Qxd4,Re2,Nf5,Qg6,Qb6,Nb3,Rxc6,Nd2,Rxg6', 'Nf3+,Kh1,Re1+,Qg1,Rxg1#', 'https://lichess.org/training/d24ao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d254V', 'Rapid', 'HS22', 2046, 'Gemco2', 2052, 'e4,e5,Bc4,Nf6,d3,Nc6,Nf3,d6,h3,Na5,Bb3,Nxb3,axb3,a6,Bg5,Be7,Nc3,c6,O-O,h6,Bxf6,Bxf6,Qd2,Be6,Ne2,Qd7,c4,g5,Nh2,h5,f3,O-O-O,Qe3,c5,Qd2,g4,fxg4,Bh4,Nf3,hxg4,Nxh4,Rxh4,hxg4,Bxg4,Ng3,Qe7,Nf5,Bxf5,Rxf5,Rdh8,Kf2,f6,Rf1,Qg7,Ke1,Rg4,Rxf6,Rxg2,Rf8+,Rxf8,Rxf8+,Qxf8,Qxg2,Qf4,Qg8+,Kc7,Qd5,Qe3+,Kd1,Qf3+,Kc2,Qf2+,Kb1,Qd4,Qxd4,exd4,Ka2,a5,Kb1,Kc6,Kc2,b5,Kd2,b4,Ke2,Kd7,Kf3,Ke6,Kf4,Kf6,Kf3,Kg5,Kg3,Kf6,Kf4,Ke6,Kg5,Ke5,Kg6', 'Kf4,Kf7,Ke3', 'https://lichess.org/training/d254V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D26We', 'Blitz', 'NM chessiah', 2444, 'vgl_power', 2343, 'c4,Nf6,Nf3,c5,g3,Nc6,Bg2,g6,O-O,Bg7,Nc3,O-O,d3,d6,Bg5,Bg4,Qd2,Re8,h3,Bxf3,Bxf3,Rc8,Rab1,a5,Bg2,b6,Rfc1,Nd4,b3,Kf8,a3,Ng8,b4,axb4,axb4,h6,Be3,Nc6,bxc5,bxc5,Nd5,Nd4,Rb7,e6,Nc3,Rc7,Rcb1,Rxb7,Rxb7,Re7,Rb1,g5,Ra1,Re8,Ra6,Ne7,Qa2,Nef5,Bd2,Qb8,Ne4,Nxe2+,Kh2,Ned4,Qa4,Qb2,Ra8,Rxa8,Qxa8+,Ke7,Ba5,e5,Bd8+,Kd7,Bf6,Bxf6,Nxf6+,Ke6,Qd8,Ne7,Nd5,Nxd5,cxd5+,Kf5', 'Be4#', 'https://lichess.org/training/D26We');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D28iw', 'Rapid', 'LePionVaillant', 1735, 'RiverRun30', 1695, 'd4,d5,c4,dxc4,Nf3,e6,e3,b5,a4,c6,axb5,cxb5,Nc3,Bd7,Be2,Nf6,O-O,Bb4,e4,Bxc3,bxc3,Nxe4,Ne5,Nxc3,Bh5,Nxd1,Bxf7+,Ke7,Ba3+,Kf6,g4,g5,f4,Nc6,fxg5+,Kxg5,Bc1+,Kh4,Nf3+,Kxg4,h3+,Kxh3,Ng5+,Kg4,Ra2,Nxd4,Rg2+,Kh4,Rh2+,Kg4,Rg2+,Kh4,Rh2+,Kg3,Rg2+,Kh4', 'Rf4#', 'https://lichess.org/training/D28iw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D29UV', 'Rapid', 'maffiu', 1834, 'Neng_iteung', 1760, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,g3,Bb7,Bg2,Qc7,O-O,Nf6,Bg5,Be7,Re1,b4,Bxf6,gxf6,Nce2,Nc6,Nxc6,Bxc6,Nd4,Bb7,Nb3,h5,a3,a5,axb4,a4,Nc5,Bxc5,bxc5,Qxc5,c3,Qb6,Rxa4,Rxa4,Qxa4,h4,Qb4,Qc6,f3,hxg3,hxg3,Rg8,g4,Qc7,Kf2,Bc6,Qd4,Rh8,Qxf6,Rh2,e5,Qb6+,Kg3,Rh7,Re2,Bb5,Rd2,Bc6,Rd6,Qe3,Qf4', 'Qe1#', 'https://lichess.org/training/D29UV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2act', 'Rapid', 'iamyoga', 1819, 'B_R_O_L_Y_K', 1841, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Be7,Bc4,Ne5,Bb3,Nf6,h3,c5,Nf3,c4,Nxe5,cxb3,Qxb3', 'Qa5+,Nc3,Qxe5', 'https://lichess.org/training/d2act');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2av1', 'Classical', 'bonb', 1622, 'jsstrn', 1639, 'e4,c5,c4,e6,Nf3,Nf6,Nc3,d5,cxd5,exd5,Nxd5,Nxd5,exd5,Qxd5,Be2,Bd6,O-O,O-O,b3,b6,Bc4,Qc6,Bb2,Bb7,Be2,Nd7,Re1,Rfe8,a4,Be5,Bb5,Qd5,Bxd7,Qxd7,Nxe5,Qd5,f3,f6,Nc4,Rad8,Rxe8+,Rxe8,Qf1,Kf7,Re1,Ba6,Rxe8,Kxe8,Qe1+,Kf7,Qe4,Qd7,Qxh7,Bxc4,Qh5+,Ke7,h3,Bxb3,Qh7,Kf7,Qh5+,Ke7,Qh7,Ke6,Qe4+,Kf7,d3,Bxa4,d4,c4,d5,Bb3,Ba3,a5,d6,b5,Qd5+,Kf8,Qa8+,Kf7,Qxa5,Kg6', 'Qc7,Qxc7,dxc7', 'https://lichess.org/training/d2av1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D2ckB', 'Rapid', 'jafarbalood', 2120, 'Larden', 2007, 'd4,Nf6,c4,e6,Nf3,b6,Nc3,Bb4,Qc2,d5,Bg5,h6,Bxf6,Qxf6,cxd5,exd5,O-O-O,c6,Nxd5,cxd5,Qxc8+,Qd8,Qxd8+,Kxd8,Ne5,Ke7,e3,Bd6,f4,Rc8+,Kb1,f6,Nf3,Nc6,a3,Na5,Ba6,Rc7,Rc1,g5,g3,gxf4,exf4,Rxc1+,Rxc1,Kf7,Ka2,Re8,b4,Re3,bxa5,Rxf3,axb6', 'Rxa3+,Kb1,Rxa6', 'https://lichess.org/training/D2ckB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D2dfL', 'Blitz', 'gfk-027', 2014, 'Recoba123', 2059, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Bb4+,Bd2,Nf6,Bb5,O-O,Bxc6,Bxd2+,Nxd2,bxc6,Ngf3,Ba6,c4,d5,cxd5,cxd5,e5,Ng4,Qa3,Qc8,h3,Nh6,Nb3,Re8,Nc5,Bb5,Nd4,Rxe5+,Kd1,Qe8,Nxb5,Qxb5,Qc3,Qe2+,Kc1,Rae8,Rd1,Qxf2,Nd7,Re2,a4,Qxg2,b4,d4,Qxc7,Rb2,b5,Nf5,Ra3,Ne3,Rxe3,dxe3,Ne5,Ra2', 'Qxf7+,Kh8,Qxe8#', 'https://lichess.org/training/D2dfL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D2Hvx', 'Classical', 'Peck27', 1766, 'minotaur_chess', 1715, 'e4,e6,d4,d5,exd5,exd5,Bd3,c5,dxc5,Bxc5,Qe2+,Be6,Bb5+,Nc6,Nf3,a6,Bxc6+,bxc6,O-O,Qf6,c3,Ne7,b4,Bb6,Bg5,Qg6,Bxe7,Kxe7,Ne5,Qh6,Nxc6+,Kd7,Nd4,Bc7,g3,Bh3,Rd1,Rhe8,Qf3,Be6,Nxe6,Qxe6,Qxd5+,Qxd5,Rxd5+,Kc6,Rf5,Re1+,Kg2,f6,b5+,axb5,Rf3,Rae8,a4,b4,cxb4,Be5,b5+,Kb7,Raa3,Rxb1,Rfe3,Bd6,Rxe8,Bxa3,Rg8,Bc5,Rxg7+,Kb6,Rxh7,Rb2,Rh8,Rxf2+,Kh3,Ka5,Ra8+,Kb4,Rc8,Bb6,Rc6,Ba5,b6,Kxa4,b7,Rb2,Rc4+,Ka3,Rf4,Bd8,Rf3+,Ka2', 'Rf2,Rxf2,b8=Q', 'https://lichess.org/training/D2Hvx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2i86', 'Rapid', 'train22', 1658, 'Hubert_Neutron', 1606, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Bg4,Be2,e6,O-O,Nge7,Bg5,h6,Bh4,Qb6,Qd3,Nf5,Nc3,Bxf3,Qxf3,Nxh4,Qh5,Nf5,Nb5,Ncxd4,Nxd4,Qxd4,Bb5+,Kd8', 'Qxf7,Be7,Qxe6', 'https://lichess.org/training/d2i86');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2jCQ', 'Rapid', 'GrootOfficial', 2198, 'Erfansh14', 2303, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,Bg7,Bd3,O-O,O-O,c5,h3,cxd4,Nxd4,Nc6,Nb3,a5,a4,Nb4,Be3,Be6,Nd4,Bd7,f4,e5,fxe5,dxe5,Ndb5,Nxd3,Qxd3,Bc6,Rad1,Qe7,Qc4,Rac8,Bc5', 'Bxb5,Bxe7,Bxc4', 'https://lichess.org/training/d2jCQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2kgT', 'Rapid', 'Sauravmohan999', 1766, 'BayShoreMarauder', 1786, 'e4,c5,Nf3,Nc6,Nc3,d6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,a4,Be7,Bf4,Qc7,Qg4,Nf6,Qxg7,Rf8,Bh6', 'Rg8,Qxg8+,Nxg8', 'https://lichess.org/training/d2kgT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D2KVM', 'Rapid', 'NikolasFury', 1785, 'yesserhassine', 2002, 'e4,e6,Nf3,d5,e5,c5,b4,Ne7,bxc5,Nf5,d4,Nc6,c3,b6,cxb6,Qxb6,Bd3,Ba6,O-O,Bxd3,Qxd3,Rc8,Ba3,Bxa3,Nxa3,O-O,g4,Nfe7,Nb5,Ng6,Nd6,Rb8,Rab1,Qc7,h4,Nf4,Qc2,Nb4,Qc1,Nbd3,Qc2,Nb4,Qd2,Nbd3,Kh2,f6,Ne1', 'Rxb1,Nxd3,Rxf1', 'https://lichess.org/training/D2KVM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D2LsQ', 'Rapid', 'boomshankar420', 1672, 'peonrey123', 1693, 'e4,Nc6,Nf3,Nf6,e5,Nd5,d4,d6,c4,Nb6,Nc3,dxe5,d5,Nd4,Nxd4,exd4,Qxd4,Bf5,Bd3,Bg6,Bf4,e6,O-O-O,Be7,Bxg6,hxg6,dxe6,Qxd4,Rxd4,fxe6,Bxc7,Rc8,Bxb6,axb6,b3,Bf6,Rd3,Kf7,Kc2,Rhe8,Ne4,b5,Nd6+,Ke7,Nxc8+,Rxc8,Rhd1,bxc4,Rd7+,Ke8,Rxb7,cxb3+,Kxb3,Rc3+,Kb4,Rc2,Re1,Rb2+,Kc5,Rxb7,Rxe6+,Kf7,Re2,g5,a4,Kg6,a5,Bd8,a6,Ra7,Kb5,Kh5,Re8,Bf6,Rb8,Bd4,Rb7,Bxf2,Rxa7,Bxa7,Kc6,Kh4,Kb7,Be3,Kc6,Kg4,Kd5,Kf4,Ke6,g6,Kf6,g4,Kxg6,g3,h4,Kg4', 'h5,Bd4,h6', 'https://lichess.org/training/D2LsQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2nBL', 'Blitz', 'Chess_Winner1', 2033, 'sitorusfelicia', 1947, 'e4,e5,d3,Nf6,Nf3,Nc6,Be2,Bc5,c3,d6,b4,Bb6,a4,a6,a5,Ba7,h3,h6,Na3,O-O,Nc2,Nh7,g4,Ne7,Bd2,Ng6,Qc1,Nh4,Be3,Bxe3,Nxe3,Nxf3+,Bxf3,Qh4,Bg2,Ng5,Qd2,h5,Qe2,Ne6,Nf5,Qg5,Qe3,Qxe3+,fxe3,hxg4', 'Ne7+,Kh7,hxg4#', 'https://lichess.org/training/d2nBL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2o65', 'Classical', 'wwwArteAzzurrait', 1718, 'shahmatdahisi', 1624, 'd4,e6,c4,d5,c5,Nc6,Nf3,Nf6,e3,b6,cxb6,axb6,Bb5,Bd7,Qc2,Bb4+,Bd2,Bxd2+,Nbxd2,O-O', 'Bxc6,Bxc6,Qxc6', 'https://lichess.org/training/d2o65');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D2Q9a', 'Blitz', 'Romus12345', 2133, 'Happiness-is-witin', 2141, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,c4,Nc6,Nc3,e6,Qb3,Be7,cxd5,Nxd5,Bc4,Nxc3,bxc3,O-O,Bd3,Bf6,Qc2,h6,O-O,e5,Ba3,Re8,Rad1,exd4,cxd4,Bg4,d5,Ne5,Nxe5,Bxd1', 'Bh7+,Kh8,Nxf7#', 'https://lichess.org/training/D2Q9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D2QCH', 'Rapid', 'Hikmet-Shukurov', 2070, 'notsoyoungme', 2215, 'd3,g6,d4,Bg7,c4,d6,Nf3,Nc6,e3,Bg4,Be2,e5,h3,Bxf3,Bxf3,Nge7,d5,Nb8,O-O,O-O,Nc3,f5,e4,Nd7,Qb3,Nc5,Qc2,a5,Bg5,Qd7,exf5,Nxf5,Bg4,Qf7,Ne4,Nxe4,Qxe4,Nd4,Be3,Kh8,Bxd4,exd4,Be6,Qf4,Rae1,Rae8,b3,Be5,g3,Qxe4,Rxe4,Rf3,Bg4,Rc3,Rfe1,Rf8,Kg2,Rc2,R1e2', 'd3,Rxc2,dxc2', 'https://lichess.org/training/D2QCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D2RzQ', 'Rapid', 'Jafarmazareei', 1837, 'DanHMarcos', 1821, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Nd7,O-O,c5,b3,cxd4,Nxd4,Bc5,Be3,Nxe5,Qb5+,Nd7,Nxe6,fxe6,Bxc5,b6,Bd4,Nf6,Bxf6,gxf6,Qc6,Ke7,Re1,Ne5,Qb7+,Qd7,Qa6,Rhg8,Nd2,Rg5,Rad1,Qc6,Re2,d4,Ne4,Rg4,Qa3+,Kf7,Nd6+,Kg7,f3,Nxf3+,Kh1,Nh4,Rdd2,Nf3,gxf3', 'Qxf3+,Rg2,Qf1+,Rg1,Qxg1#', 'https://lichess.org/training/D2RzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2TWg', 'Blitz', 'darthpetrov2000', 2553, 'FM anantone', 2584, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e4,d6,d4,O-O,Be2,Na6,O-O,e5,Be3,Ng4,Bg5,Qe8,dxe5,Nxe5,Nd4,c6,Qd2,Nc5,Rad1,a5,b3,f6,Be3,Ng4,Bxg4,Bxg4,f3,Bc8,Rfe1,Qe7,Bf4,Rd8,Nc2,Bf8,Qf2,Be6,Re2,Qf7,Red2,f5,exf5,Bxf5,Bxd6,Bxd6,Rxd6,Rxd6,Rxd6,Bxc2,Qxc2,Qf4,Qd2,Qxd2,Rxd2,Kf7,Kf2,Re8,h4,h6,Rd6,h5,Ne2,Re5,Nf4,g5,Nxh5,gxh4,Nf4,Rf5,Nd3', 'Ne4+,Kf1,Nxd6', 'https://lichess.org/training/d2TWg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D2uGR', 'Blitz', 'Akvinroma', 1667, 'Tesla_future', 1612, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,d4,cxd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,Ne7,Nc3,Nc6,Qf2,Rc8,O-O,b6,Be3,d4,Nb5,dxe3,Qe2,Bc5,Kh1,O-O,Rad1,Qe7,a3,a6,Nd6,Bxd6,Rxd6,Rfd8,Rfd1,b5,Qxe3,f6,Qb6,Rxd6,Rxd6,Qa7,Rxc6,Qxb6,Rxb6,fxe5,fxe5,Rxc2,h3,Rxb2,Rxa6,Kf7,Rb6,Kg6,a4,Kf5,a5,Kf4,a6', 'Kg3,Rc6,Rb1+,Rc1,Rxc1#', 'https://lichess.org/training/D2uGR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D2v5v', 'Blitz', 'Balto26', 1635, 'RomanNevikov', 1549, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,d3,Nf6,Bg5,Be7,Nc3,d5,e5,Nd7,Bxe7,Qxe7,O-O,O-O,Qd2,h6,Rfe1,Nb6,a4,c4,Rad1,cxd3,cxd3,Qb4,Ra1,Rd8,d4,Nc4,Qc2,Qxb2,Qxb2,Nxb2,Nd2,Bd7,a5,a6,Reb1,Rab8,Ra2,Nd3,Na4,Rxb1+,Nxb1,Rb8,Nd2,Rb4,Nc5,Nxc5,dxc5,Rd4,h3,g5,g3,Rb4,Kg2,Kg7,Kf3,f5,g4,f4,Ke2,Rb5,Kd3,Rxc5,Nb3,Rb5,f3,c5,Kc3,c4,Nd4,Rb1,Kc2,Rh1,Rb2,Rh2+,Kc3,Rxb2,Kxb2,Kf7,Kc3,Bb5,Kb4,Bd7,Kc3,Ke7,Kb4,Be8,Kc5,Kd7,Kb6,Kc8,Kxa6,c3,Kb6,Ba4,a6,Kb8,a7+,Ka8', 'Nxe6,c2,Nc7#', 'https://lichess.org/training/D2v5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2x6L', 'Classical', 'WuffitheBoss', 1973, 'Harmony_in_life', 2051, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,c3,Bg4,Bf4,e6,Nbd2,Bd6,Bxd6,Qxd6,Bd3,Nf6,Qc2,a6,O-O,O-O,Rfe1,Qf4,Ne5,Bh5,Re3,Bg6,Nxg6,hxg6,Rf3,Qg5,Rg3,Qf4,Re1,Nh5,Rf3,Qg5,Nf1,Rac8,Qb1,b5,a4,Rb8,axb5,axb5,Ng3,b4,Nxh5,Qxh5,Qc2,Rbc8,Ba6', 'Nxd4,Qd3,Nxf3+', 'https://lichess.org/training/d2x6L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D2xV6', 'Rapid', 'firivero', 1627, 'dragana972', 1868, 'e4,e5,Nf3,Nc6,Bc4,Bc5,a3,Nf6,d3,h6,h3,O-O,Nc3,a6,g4,b5,Ba2,b4,axb4,Bxb4,Kf1,g5,h4,Nxg4,hxg5,hxg5,Nxg5,d6,Nd5,Kg7,Ne3,f5,Nxf5+,Rxf5,exf5,Bxf5,Ne6+,Bxe6,Bxe6,Nxf2,Rg1+,Kf6,Bd5,Nxd1,Bg5+,Kf5,Bxd8', 'Ne3+,Ke2,Nxd5', 'https://lichess.org/training/D2xV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2ywJ', 'Rapid', 'daraselia', 1852, 'the_kid91', 2172, 'd4,d5,c4,c6,Nf3,Nf6,g3,a6,Bg2,Bg4,O-O,e6,Nc3,Nbd7,Re1,Bb4,h3,Bh5,a3,Bxc3,bxc3,Ne4,Qc2,f5,cxd5,cxd5,Nd2,Rc8,Nxe4,fxe4,Rb1,b5,a4,bxa4,Qxa4,O-O,Qxa6,Bf7,Bf4,Rxc3,Rb7,Nf6,Reb1,Qa8,Qb6,Ra3,Rb8,Rxb8,Bxb8,Ra1,Rxa1,Qxa1+,Kh2,h6,Qd8+,Kh7,Be5,Kg6,h4', 'Ng4+,Kh3,Nxf2+', 'https://lichess.org/training/d2ywJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2ZRf', 'Rapid', 'skazochnik', 1937, 'ArtemioVillanueva', 2041, 'c4,Nf6,Nc3,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Bg5,Bg7,e3,a6,a3,Qb6,Be2,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/d2ZRf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d2zs0', 'Rapid', 'VanessaCf', 1796, 'belibarahona', 1774, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,Bg4,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Bd3,Ne4,Qc2,Bxf3,gxf3,Nf6,Be5,dxc4,Bxf6,Qxf6,Bxh7+,Kh8,Be4,Rab8,Rg1,Qh4,O-O-O,Na5,Rg4,Qe7,Kd2,g6,Rdg1,Rg8,h4,Qxa3,h5,Nb3+,Ke2,Rg7,hxg6,fxg6,Rh1+,Kg8,Bxg6,Na1,Bh7+,Kf8,Rf4+,Ke7,Qc1,Qa2+,Kf1,Nb3,Qd1,Nd2+,Ke1,Nb3,d5,Rh8,Rfh4,Rg2,Bc2,Nc5,Rxh8,Nd3+,Kf1,Rxf2+,Kg1,Rg2+,Kxg2,Nb2,R1h7+,Kd6,Qd2,Nd3,dxe6,Kxe6,Re8+,Kf6,Rxc7,Qa1,Bxd3,cxd3,Rxb7,Qa5,Ra8,Qg5+,Kf2,Qh4+,Kf1,Qh1+,Kf2,Qh2+,Ke1', 'Qg1#', 'https://lichess.org/training/d2zs0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D31rA', 'Classical', 'Kreizberg', 1652, 'baha_chess', 1694, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,Qf3,Qf6,Qg3,Ne7,d3,c6,Bg5,Qg6,O-O,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Kxd7,Re1,Nf5,Qg4,h6,Qh3,Qxg5,Nd2,Bb4,Nf3,Qf4,Re5,g6,Rxd5+,Kc6,Re5,b6,Rae1,Bxe1,Rxe1,a5,Re4,Qc1+,Re1,Qxc2,Ne5+,Kd5,Qf3+,Ke6,Nxg6+,Kf6,Nxh8,Rxh8,g4,Rg8,Qxf5+,Kg7,Qe5+,Kh7,Qxd4,Qd2,Re7', 'Qd1+,Kg2,Rxg4+,Qxg4,Qxg4+', 'https://lichess.org/training/D31rA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D3arT', 'Rapid', 'Kavi_Devakumar', 2116, 'Piatti', 2187, 'd4,d5,c4,Nc6,e3,e5,cxd5,Qxd5,Nc3,Bb4,Bd2,Bxc3,Bxc3,exd4,Bxd4,Nxd4,Qxd4,Qxd4,exd4,Bf5,Bb5+,c6,Bc4,Rd8,Nf3,Be4,Ne5,Bd5,O-O-O,Nf6,f3,O-O,Rhe1,Bxc4,Nxc4,Nd5,Ne3,f6,Nxd5,Rxd5,Re7,Rb5,Rd7,Re8,Rd2,Re1+,Kc2,Kf8,a4,Rb6,d5,Re7,dxc6,Rxc6+,Kb1,Rc7,Rd8+,Kf7,Ka2,a6,h4,h6,h5,Re5,g4,Rce7,Rb8,Re3,Rf2,Ke6,f4,Kd5,g5,f5,gxh6,gxh6,Rf8,Ke4,Rf6,Rf3,Rxf3,Kxf3,Rxf5,Kg4,Rf6,Kxh5,Kb3,Rg7,Kc4,Rg6,Rf7,Kg4,f5,Rg5,f6,h5', 'Rg7', 'https://lichess.org/training/D3arT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D3CBD', 'Classical', 'Ethan_15', 1752, 'jumi992', 1827, 'e4,c6,Nf3,d5,Nc3,Bg4,h3,Bxf3,Qxf3,Nf6,d4,dxe4,Nxe4,Qxd4,Nxf6+,Qxf6,Qb3,Qe5+,Be2,Qc7,O-O,e6,Bf4,Bd6', 'Bxd6,Qxd6,Qxb7', 'https://lichess.org/training/D3CBD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D3e8n', 'Rapid', 'bakaben', 1775, 'FutaFanboy', 1736, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb3,a6,Nc3,Nf6,a4,Be7,Bc4,h6,O-O,O-O,f3,Nc6,Be3,Nb4,Nd5,Nfxd5,Bxd5,Qc7,c3,Nxd5,Qxd5,Be6,Qd1,Rac8,Nd2,d5,exd5,Bxd5,a5,Bc5,Qe2,Rfd8,Kh1,Bxe3,Qxe3,f5,Rfe1,Re8,Rec1,e4,fxe4,Rcd8,c4,Bc6,b3,Qd6,Rd1,Qf6,Nf3,Bxe4,Rac1,Qb2,h3,Kh7,Kh2,Bc6,Qc3', 'Qxc3,Rxc3,Rxd1', 'https://lichess.org/training/D3e8n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d3Ha5', 'Blitz', 'sQul', 1694, 'silwamba', 1733, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,Nxe5,Nf6,Qe2,Be7,d4,O-O,Bg5,d5,Bxf6,Bxf6,exd5,Qxd5,O-O,Bf5,Rd1,Rae8,Nc3,Qd8,Qh5,Bg6,Nxg6,fxg6,Qf3,Qe7,Qxc6,Bxd4,Nd5,Bxf2+,Kf1,Bh4+,Kg1,Qe2,Nc3,Qf2+,Kh1,Qxc2,b3,Re7,Qc4+,Ref7,Qxh4', 'Qxd1+,Rxd1,Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/d3Ha5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d3KW5', 'Rapid', 'trapizonga', 1840, 'gramo', 1823, 'b3,e5,Bb2,Nc6,e3,Bb4,Nf3,d6,a3,Bc5,b4,Bb6,d4,e4,Nfd2,Bf5,c4,a6,Be2,Nf6,O-O,O-O,Nc3,d5,cxd5,Nxd5,Nxd5,Qxd5,Bc4,Qd7,Rc1,Ne7,Qb3,Ng6,Rfd1,c6,Nf1,Bc7,Ng3,Bg4,Rd2,Bxg3,hxg3,Qf5,Qc3,Kh8,d5,f6,d6,Rad8,a4,Ne5,Ba2,Rd7,b5,axb5,axb5,cxb5,Qb4,Nc6,Qc5,Ne5,Qxb5', 'Nf3+,gxf3,Qxb5', 'https://lichess.org/training/d3KW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D3Ld6', 'Blitz', 'juan_264', 1751, 'shobtobipovylazylo', 1756, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d3,Bg4,Nbd2,Qe7,O-O,Nf6,Bb3,h6,Qe1,a6,Bd1,O-O-O,Nb3,Ba7,Be3,b6,Nfd2,h5,h3,Bd7,Nf3,Rdg8,d4,g5,Bxg5,Bxh3,Bxf6,Rxg2+,Kh1,Qxf6,dxe5,Nxe5,Nxe5,Qxe5,f4,Qe7,Bf3,Rxb2,Rf2,Rxf2,Qxf2,b5,Qxa7,Kd7,Qxa6,Bg4,Qxb5+,Kd8,Qb8+,Kd7,Qxh8,Bxf3+,Kg1,Qxe4,Qd4', 'Qg6+,Kf1,Qg2+,Ke1,Qe2#', 'https://lichess.org/training/D3Ld6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D3m6K', 'Rapid', 'hassotasso', 1952, 'Dw232chess', 2025, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,c6,Nf3,Qb6,Qc2,h6,Bxf6,Bxf6,cxd5,cxd5,Be2,Bd7,O-O,Nc6,a3,Rc8,Rac1,Na5,b4,Nc4,Qb3,O-O,Rfd1,Qa6,a4,Qd6,e4,Bg5,Nxg5,hxg5,e5,Qe7,Na2,f6,Bxc4,dxc4,Rxc4', 'Bxa4,Qxa4,Rxc4', 'https://lichess.org/training/D3m6K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D3m9d', 'Rapid', 'khaidemsubirsingha', 2044, 'Sebol240', 2228, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,c6,Bd3,Bg4,h3,Bh5,g4,Bg6,Ne5,Bxd3,Qxd3,Nbd7,Nc4,Qc7,Be3,e6,O-O-O,b5,Nd2,Be7,g5,Nh5,Ne2,Nb6,Qe4,g6,Nf4,Nxf4,Bxf4,Bd6,Be5,Bxe5,dxe5,O-O-O,Rhe1,h6,h4,hxg5,hxg5,Rd5,f4,Rhd8,Qf3,Qe7,Ne4,Nc4,Nf6,Qb4,Qb3', 'Rxd1+,Rxd1,Rxd1+,Kxd1,Qd2#', 'https://lichess.org/training/D3m9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d3MEi', 'Rapid', 'astronomydomine1975', 1691, 'Gun08000', 1705, 'e4,d5,e5,c5,d4,cxd4,Qxd4,Nc6,Qa4,a6,Be3,Bd7,Qf4,Qc7', 'e6,Qxf4,exd7+,Kxd7,Bxf4', 'https://lichess.org/training/d3MEi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d3Pws', 'Rapid', 'Sachin_chess', 1770, 'brad1234', 1712, 'd4,c5,dxc5,e6,Nc3,Bxc5,Nf3,Nf6,Nb5,d5,e4,O-O,exd5,exd5,Be2,a6,Nc3,d4,Nb1,Ng4,O-O,d3,Bxd3,Bxf2+,Rxf2,Nxf2,Kxf2,Qb6+,Kf1,Nc6,Nc3,Bg4,h3,Be6,b3,Rad8,Bb2,Bf5,Qe2,Rfe8,Qd2,Nb4,Na4,Bxd3+,cxd3,Qb5,Kg1,Nxd3,Bc3,Qh5,Nd4,Ne5,Qf2,Nd3,Qf1,Qg6,Nf5,b5,Rd1,bxa4,Rxd3,Rxd3,Qxd3,Qb6+,Kh1,g6,Qd7,Rd8', 'Nh6+,Kf8,Qxf7#', 'https://lichess.org/training/d3Pws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D3T2S', 'Rapid', 'Goganko', 1749, 'haleem', 1681, 'e4,Nf6,e5,Nd5,d4,c6,Nf3,e6,c4,Nb6,c5,Nd5,Bc4,Nc7,b4,h6,a4,a6,a5,Be7,O-O,O-O,Nbd2,Nd5,Ba3,Nc3,Qc2,Nb5,Bc1,d5,Bd3,Nd7,Ne4,f5,exf6,Nxf6,Nxf6+,Bxf6,Bh7+,Kh8,Bxh6,gxh6,Qg6,Bg7,Ne5,Nxd4,Nf7+,Rxf7,Qxf7,Kxh7,f4,Ne2+,Kh1,Qf6,Qe8,Qh4,Rf3,Bxa1,g3,Nxg3+,Rxg3,Qxg3,hxg3,d4,Qf7+,Kh8,Qf6+,Kh7,g4,e5,Qxe5,Bxg4,f5,Rf8,f6,Rf7', 'Qe4+,Bf5,Qxf5+', 'https://lichess.org/training/D3T2S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d3twI', 'Classical', 'beast0n', 1782, 'presarioad', 1858, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,d3,Bf5,Nf3,Nc6,h3,h6,a3,e5,O-O,Bd6,Nh4,Be6,Bxe6,fxe6,f4,O-O,fxe5,Bxe5,Bd2', 'Qd4+,Kh1,Qxh4', 'https://lichess.org/training/d3twI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d3U66', 'Rapid', 'Gurra1777', 2195, 'vollfrucht', 1957, 'c4,e5,g3,Nf6,Bg2,Bc5,Nc3,c6,e3,d5,cxd5,Nxd5,Nge2,Na6,O-O,O-O,b3,Bg4,Bb2,Re8,h3,Bh5,g4,Bg6,d4,exd4,Nxd5,cxd5,Nxd4,Nb4,a3,Nd3,Bc3,Be4,b4,Bxg2,Kxg2,Bxd4,Bxd4,Ne5,Bxe5,Rxe5,Qd4,Re4,Qd3,Qd7,f3,Rc4,Rfd1,Qc7,Qxd5,Rc2+,Rd2,Rd8,Qxd8+,Qxd8,Rxc2,h6,Rac1,Qd3,Rc3,Qe2+,Kg3,g5,f4,Kg7,f5,h5,gxh5,Qxh5,R3c2,Qh4+,Kg2,Qe4+,Kh2,Qxe3,Rg1,Qe5+,Kh1,Qxf5,Rh2,Qf3+,Rgg2,Qxa3,Rxg5+,Kf8,Rg4,Qf3+,Kg1,f5,Rf2,Qxh3,Rxf5+,Ke7,Rg7+,Ke6,Rff7,Qe3+,Kh2,Qh6+,Kg3,Qe3+,Kh4,Qe4+,Kh5,Qe2+,Kg6,Qg4+,Kh6,Qh4+,Kg6,Qg3+,Kh5,Qh3+,Kg5,Qg3+,Kh5,Qe5+,Kh4,Qe4+,Kg3,Qe3+,Kg2,Qe2+,Kh3', 'Qh5+,Kg2,Qxf7', 'https://lichess.org/training/d3U66');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D3vKl', 'Rapid', 'safi2020', 1732, 'Champion2017', 1736, 'e4,e5,Nf3,Nc6,c3,a6,Bc4,h6,d4,exd4,cxd4,d6,O-O,Be7,Re1,Bg4,h3,Bh5,Nc3,Bf6,Be3,Bxf3,Qxf3,Qd7,Rad1,O-O-O,b4,Bg5,b5,Bxe3,bxc6,Qxc6,Qxf7,Bg5,Qf5+,Kb8,Bxg8,Qxc3,f4,Bh4,Rc1,Qxd4+,Kh1,Bxe1,Bb3,Rhf8,Qg4,g5,Rxe1,Rxf4,Qe6,Rdf8,Qxh6,Qf2,Rb1,g4,Bd5,b6,Rxb6+,cxb6,Qxd6+,Kc8,Be6+,Kb7,Qd7+,Kb8,Qd6+,Ka7', 'Qc7+,Ka8,Bd5#', 'https://lichess.org/training/D3vKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d3wBl', 'Blitz', 'FM matador1104', 2369, 'viticos12', 1747, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Bg5,O-O,Nxc6,bxc6,Qd4,Be7,Bd3,c5,Qe3,Bb7,Bxf6,Bxf6,O-O,Bd4,Qg3,Qf6,Qxc7,Bc6,Nd5,Qe6,Nf4,Qf6,Nd5,Qe6,c4,Be5,Qa5,Qh6,g3,Qe6,Rab1,h5,Qxc5,h4,Qe3,hxg3,hxg3,g6,Kg2,Kg7,Rh1,Rh8,f4,Bd6,Qd4+,f6,c5,Bxf4,Nxf4,Qg4,Qf2,g5,Nd5,f5,Qxf5', 'Qxf5,exf5,Bxd5+', 'https://lichess.org/training/d3wBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d3Wh7', 'Rapid', 'Stefan08', 2103, 'Mehul1201', 2063, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,Be6,Nd5,Rc8,Be2,Nf6,Bg5,a6,Bxf6,gxf6,Nbc3,Bg7,Bg4,h5,Bxh5,f5,exf5,Bxd5,Nxd5,Qa5+,Nc3,e4,O-O,Bxc3,bxc3,Qxf5,Qg4', 'Rxh5,Qxf5,Rxf5', 'https://lichess.org/training/d3Wh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D4aRY', 'Blitz', 'GM NguyenDucHoa', 2593, 'haringdavid_pcap', 2514, 'Nf3,d5,g3,Nf6,Bg2,c6,O-O,Bg4,Ne5,Bh5,c4,e6,d4,Nbd7,Nc3,Be7,Qb3,Qb6,Nxd7,Nxd7,e4,dxc4,Qxc4,O-O,Be3,Qb4,Qd3,Rfd8,Qc2,Qa5,a3,Rac8,b4,Qc7,f4,Nb6,h3,f6,g4,Bf7,Bf2,Nc4,Ne2,b5,e5,a6,Ng3,a5,Qc3,Ra8,Rfc1,Rdc8,Bf1,Nb6,Bxb5,Nd5,Qf3,Qb6,Bd3,axb4,Qe4,g6,f5,Re8,axb4,Rxa1,Rxa1,Qxb4,Ra7,exf5,gxf5,Qb8,e6,Qxa7,exf7+,Kxf7,fxg6+,Kg7,gxh7,Kh8,Qg6,Qd7,Nf5,Bb4,Nh6,Rf8', 'Qg8+,Rxg8+,hxg8=Q#', 'https://lichess.org/training/D4aRY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d4bXH', 'Rapid', 'slobane18', 1831, 'Akbar_R', 1773, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,d5,exf6,dxc4,O-O,Qxf6,Re1+,Be6,Bg5,Qg6,cxd4,Nxd4,Nxd4,Qxg5,Nxe6,fxe6,Rxe6+,Be7,Nc3,O-O,Qd7,Bc5,Ne4,Qf5,Rf1,Rad8,Qxc7,Bxf2+,Nxf2,Qxe6,Qxb7,Rxf2,Rxf2', 'Rd1+,Rf1,Qe3+,Kh1,Rxf1#', 'https://lichess.org/training/d4bXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D4dtF', 'Blitz', 'yerzhan-1983', 1590, 'trestres_3', 1509, 'e4,e6,d4,d5,e5,c5,c3,c4,Nf3,a5,a4,Ne7,Be2,Bd7,O-O,b5,axb5,Bxb5,Re1,Nf5,b3,Be7,bxc4,dxc4,Na3,Bxa3,Bxa3,Ne7,Bb4,Nbc6,Ba3,O-O,Nd2,Re8,Nxc4,Nd5,Qc2,Nf4,Qb3,Rb8,Qa2,Qg5,Bc1', 'Qxg2#', 'https://lichess.org/training/D4dtF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D4f1b', 'Rapid', 'Allenator', 1885, 'desmond84', 1606, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,O-O,e5,dxe5,fxe5,Nd5,Nxd5,Qxd5,h3,c5,c3,cxd4,cxd4,Nc6,a3,Rd8,Be3,f6,Rc1,fxe5', 'Bc4,Qxc4,Rxc4', 'https://lichess.org/training/D4f1b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D4k0S', 'Rapid', 'hope777', 1642, 'BJackson92', 1668, 'e4,e5,d4,b6,dxe5,Bb7,Nc3,d5,exd5,Ne7,d6,Nec6,Bc4,Nxe5,Bf4,Nxc4,Nf3,Bxd6,O-O,O-O,Bg3,Bxg3,fxg3,Qxd1,Nxd1,Bxf3,gxf3,Nc6,b3,N4a5,c3,g6,Ne3,Rae8,Nd5,Rc8,b4,Nc4,b5,N6a5,Ne7+,Kg7,Nxc8,Rxc8,Rfe1,Nd2,Kg2,Nac4,Re7,Kf6,Rae1,c6,Rxa7,cxb5,Ree7,Ne5,f4,Nc6,Rxf7+,Ke6,Rac7,Rxc7,Rxc7,Kd6,Rxh7,Ne4,Rg7,Ne7,g4,Nxc3,h4,Nxa2,h5,gxh5,gxh5,Ke6,h6,Nf5,Rg6+,Kf7,Rxb6,b4,Kf3,Kg8,Rb7,Nxh6,Ke4,Nf7,Kd5,Nd8', 'Rb8,Kf8,Rxd8+', 'https://lichess.org/training/D4k0S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d4MKu', 'Blitz', 'Qbeq18', 1947, 'TheHugeFan', 1936, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Nc3,Bf5,Bf4,Nc6,Bd3,Bg6,O-O,e6,Bxg6,hxg6,Ne5,Nh5,Bg3,Nxg3,fxg3,Nxe5,dxe5,Qb6+,Kh1,Qxb2,Qf3,O-O-O,Rab1,Qxc2,Rfc1,Qf5,Nxd5+,Kb8,Qb3,Rd7,Qb5,Bc5,Qxd7', 'Rxh2+,Kxh2,Qh5#', 'https://lichess.org/training/d4MKu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d4mxr', 'Blitz', 'FM Blackmen60', 2371, 'DragonBird', 2324, 'e4,c5,Nf3,d6,Bb5+,Nd7,d4,cxd4,Qxd4,e5,Qd3,a6,Bxd7+,Bxd7,Nc3,Rc8,Nd2,Nf6,Nc4,d5,Nxd5,Nxd5,Qxd5,Qc7,Qxe5+,Qxe5,Nxe5,Rxc2,Nxd7,Kxd7,O-O,Bc5,Rd1+,Ke7,Rd2,Rd8,Rxd8,Bxf2+,Kf1,Kxd8,Bg5+,f6,Rd1+,Ke7,Rd2,Rxd2,Bxd2,Bd4,b3,Ke6,Ke2,g5,g4,Ke5,Kf3,Bb2,Be3,b5,h3,Bd4,Bd2,Ke6,Ke2,Kd6,Kd3,Be5,Be3,Kc6,Bf2,Kd6,a4,Kc6,Be3,Kd6,Bd4,Ke6,Ba7,Bf4,Kd4,Bh2,Kd3,Bd6,Bd4,Be5,axb5,axb5,Be3,Kd6,Bd4,Bxd4,Kxd4,h6', 'b4,Ke6,Kc5,Ke5,Kxb5', 'https://lichess.org/training/d4mxr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D4njE', 'Rapid', 'Nitroglycerin_01', 2045, 'heliojean', 1899, 'e4,c6,d4,d5,exd5,Qxd5,Nc3,Qd8,Bf4,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Nf6,O-O,Nbd7,h3,h6,Rfe1,Be7,Ne2,Nd5,Bh2,N7f6,c4,Nb4,Qb3,b6,a3,Na6,Rad1,O-O,Qa4,Qc8,Ne5,Bd6,Nxc6,Bxh2+,Kxh2,Qc7+,Kg1,Rac8,Qxa6,Qxc6,b3,Nh5,d5,exd5,Rxd5,f5,Nd4,Qg6,Ne2,Rce8,Rd2,Rxe2,Rdxe2,Nf4,Qb7,Nxh3+,Kf1,Nf4,Re3,Qh5,f3,Qh1+,Kf2', 'Qxg2#', 'https://lichess.org/training/D4njE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D4Nqg', 'Rapid', 'radhialharazi', 1868, 'AHMEDALAZZAMI', 1973, 'd4,Nf6,Bf4,g6,h3,Bg7,e3,d6,Nf3,c5,c3,O-O,Be2,Qb6,Qc1,cxd4,cxd4,Nc6,a3,Bf5,O-O,h5,Nbd2,Rac8,Nc4,Qd8,Qd1,Ne4,Ncd2,Qa5,b4,Qb6,Nxe4,Bxe4,Rc1,e5,dxe5,Nxe5,Bxe5,Bxe5,Rxc8,Rxc8,Nxe5,dxe5,Qd7,Rc3', 'Qe8+,Kg7,Qxe5+,Qf6,Qxe4', 'https://lichess.org/training/D4Nqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D4nwl', 'Blitz', 'pekfjkcddd', 1884, 'hsayram', 1876, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Bb4+,Nc3,Qa5,Qb3,Nge7,Be3,Nf5,Be2,Nxe3,fxe3,O-O,O-O,f6,exf6,Rxf6,Ng5,Rxf1+,Rxf1,Bd7,a3,Bxc3,bxc3,Qd8,h4,b6,Bg4,e5,Qd1,exd4,Bxd7,Qxd7,Qh5,h6,Rf7,Qe8,Qg6,Qxe3+,Kh1,Qe1+,Kh2,Qxh4+,Kg1,Qxg5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/D4nwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D4oSo', 'Rapid', 'Amarparove', 1790, 'akhdiyatsabari', 1800, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Bd3,Nf6,e5,Qa5+,Nc3,Qxe5+,Be3,Bd6,Qe2,Rb8,f4,Qa5,O-O,Rxb2,Bd2,Qb6+,Kh1,Qb8,Ne4,Nxe4,Qxe4,f5,Qd4,O-O', 'Bc3,Rf7,Bxb2', 'https://lichess.org/training/D4oSo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d4Q3B', 'Rapid', 'LucasCRibeiro', 1625, 'ifekali', 1726, 'd4,f5,c4,Nf6,g3,g6,Nf3,Bg7,Nc3,O-O,Bg2,c6,Qb3,Kh8,Be3,d6,Qd1,Qe8,Qc1,Ng4,Bg5,h6,Bd2,e5,dxe5,Nxe5,Bxh6', 'Nd3+,Kf1,Nxc1,Bxg7+,Kxg7', 'https://lichess.org/training/d4Q3B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d4tTq', 'Classical', 'm_leali', 1717, 'Rishabharsd', 1732, 'e4,e6,d4,c6,c3,Nf6,e5,Nd5,c4,Ne7,Bg5,h6,Bh4,Qa5+,Nd2,Nf5,Nf3,g5,Bg3,Be7,Bd3,Nxg3,hxg3,g4,Nh2,h5,Nxg4,Na6,Nf6+,Bxf6,exf6,Nb4,Be2,Qf5,Rb1', 'Nc2+,Qxc2,Qxc2', 'https://lichess.org/training/d4tTq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D4W1D', 'Bullet', 'Gilbrater', 1752, 'Verschwiegenheit', 1673, 'f4,d6,Nf3,Nf6,e3,Bg4,c3,Nc6,d4,e6,Bd3,Be7,O-O,O-O,Nbd2,Re8,Qe1,Qd7,Qh4,h6,Qg3,e5,fxe5,dxe5,Nxe5,Nxe5,Qxe5,Bd6,Qa5,Rxe3,Bc4,Ree8,Nb3,b6,Qa6,Qc6,Bb5,Bxh2+,Kh1,Qe4,Bxe8,Bd6,Bxf7+,Kxf7,Qc4+,Be6,Qa4,Qh4+,Kg1,Qh2+,Kf2,Ng4+,Kf3,Qf4+,Ke2,Qxf1+,Kxf1,Rf8,Kg1,Kg8,Qxa7', 'Bh2+,Kh1,Rf1#', 'https://lichess.org/training/D4W1D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D507p', 'Rapid', 'Kir13', 1865, 'Renyyx', 1757, 'd4,g6,c4,Bg7,Nc3,b6,Nf3,Bb7,e4,d6,Bd3,Nf6,O-O,O-O,Be3,c5,d5,Nbd7,Qd2,Ne8,Rac1,a6,b3,Ne5,Nxe5,Bxe5,Bh6,Bg7,Bxg7,Kxg7,f4,Bc8,e5,Nc7,Rce1,b5,Qf2,bxc4,bxc4,Rb8,Re2,a5,Qh4,Na6,Ne4,Nb4,Ng5,h6,e6,hxg5,fxg5,Nxd3,Rxf7+,Rxf7,Qh6+,Kg8,exf7+,Kxf7,Qh7+,Ke8,Qxg6+,Kd7,Qxd3,Qg8,Qf5+,Kc7', 'Rxe7+,Kd8,Qf6', 'https://lichess.org/training/D507p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d527M', 'Rapid', 'Sarkall', 1839, 'thebm', 1751, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,g6,O-O,Bg7,Re1,Nge7,c3,O-O,d4,exd4,cxd4,b5,Bb3,d6,Bg5,Na5,Nbd2,Nxb3,Nxb3,Re8,Rc1,a5,Qc2,a4,Nbd2,h6,Bf4,g5,Be3,f5,exf5,Nxf5,Qc6,Bd7,Qxc7,g4,Nh4,Nxh4,Qxd6,Be6,Qc6,Bd5,Qxb5,Nxg2,Re2,Rb8,Qxa4,Nxe3,fxe3,Rxb2,e4,Bxe4,Rxe4,Rxe4,Nxe4,Bxd4+,Kh1,Rxh2+,Kxh2', 'Qh4+,Kg2,Qh3#', 'https://lichess.org/training/d527M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D55dO', 'Rapid', 'UselessP1ayer', 2018, 'quinzecinq', 2011, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,c6,Be3,b5,a3,a5,Bd3,Bb7,O-O,Ng4,Bd2,h5,h3,Qb6,Ne2,e5,c3,exd4,cxd4,Nd7,hxg4,hxg4,Ng5,Bxd4+,Nxd4,Qxd4+,Rf2,Qxd3,Bc3,Qxd1+,Rxd1,Rh5,Rxd6,Ke7,Rfd2,Nc5,Bf6+,Kf8,Rd7,Rxg5', 'Rd8+,Rxd8,Rxd8#', 'https://lichess.org/training/D55dO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D55gX', 'Rapid', 'baray', 1631, 'heresantos', 1729, 'e4,e5,Nf3,d6,Bc4,Be7,Nc3,Nf6,d3,O-O,Be3,Nc6,Qd2,Na5,Nd5,Nxc4,Nxe7+,Qxe7,dxc4,Ng4,O-O-O,Nxe3,Qxe3,f5,h4,f4,Qb3,a5,c5+,Be6,cxd6,cxd6,Qb6,Ra6,Qb5,Rc8,Ng5,Rc5,Qe2,Bxa2,Qh5,h6,Nf3,Qc7,Qe8+,Kh7,Ng5+,hxg5,Qh5+,Kg8', 'Qe8+,Kh7,hxg5#', 'https://lichess.org/training/D55gX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D57fD', 'Rapid', 'loretocmendoza', 2126, 'Peshka19', 2096, 'Nf3,d5,Nc3,Nf6,d4,Bf5,Bg5,Nbd7,h3,h6,Bh4,e6,g4,Bg6,Ne5,c5,Nxg6,fxg6,Qd3,Kf7,O-O-O,cxd4,Qxd4,Bc5,Qd3,Ne5,Qb5,Bb6,Kb1,a6,Qa4,Bc5,f4,Nc4,e4,b5,Nxb5,axb5,Qxb5,Qc7,exd5,exd5,Rxd5,Rad8,Rxc5', 'Rd1#', 'https://lichess.org/training/D57fD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d57G1', 'Blitz', 'pythagoras_hellas', 1809, 'gettinthroughgate', 1754, 'e4,c6,d4,d5,e5,Bf5,f4,h5,h3,h4,Bd3,Nh6,c3,e6,Nf3,Be7,Be3,Nd7,Bf2,f6,Qc2,fxe5,fxe5,Rf8,Bxf5,Nxf5,Nbd2,Qc7,O-O-O,O-O-O,Qd3,Nb6,Kb1,g5,Nh2,Nh6,Rhf1,Nf5,Ng4,c5,Nf3,c4,Qd2,Na4,Nxg5,Qb6,Nf3,Kb8,Ka1,Qa6,Rb1,Qa5,b4,cxb3,Rxb3,Nb6,Rfb1,Rd7,Qd3,Nc4,Rb5,Qa6,R5b3,Rc7,Be1,Rc6,Rxb7+,Ka8,R7b3', 'Qxa2+,Kxa2,Ra6+,Ra3,Rxa3#', 'https://lichess.org/training/d57G1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D587f', 'Rapid', 'visuai', 1837, 'weinstubn', 1840, 'e4,d6,Nf3,Nf6,Nc3,Bg4,Be2,c6,d3,Nbd7,Be3,Bxf3,Bxf3,e5,g3,Be7,Bg2,O-O,Qd2,Ng4,f4,Nxe3,Qxe3,exf4,gxf4,Bh4+,Kd2,Re8,Qh3,Bf6,Raf1,Qa5,Ra1,Bxc3+,bxc3,Nf6,Rhg1,Rad8,Qh4,Kh8,Bf3,Rg8,Rg5,Qc7,Rag1,Qe7,e5,dxe5,fxe5,Nd5,Bxd5,cxd5', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/D587f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5CS4', 'Blitz', 'groot786', 1818, 'Szczur', 1856, 'e4,c5,Nf3,Nc6,Bc4,d6,Nc3,Nf6,d4,cxd4,Nxd4,Bg4,f3,Bh5,g4,Bg6,h4,e5,Nxc6,bxc6,h5,d5,Bd3,dxe4,fxe4,Qb6,hxg6,fxg6,Qe2,O-O-O,Ba6+,Kb8,Bd3,Bb4,Bd2,h5,Be3,Bxc3+,bxc3,Qa5,Rb1+,Ka8,Bd2,Nxg4,c4,Qxa2,c3,Rhf8,Be3,Qa3,Rc1,Rf6,Rf1,Nxe3,Qxe3,Rfd6,Rd1,Qxc3+,Ke2,Qb2+,Rd2,Qa3,Rf7,Rxd3', 'Rxd3,Rxd3,Qxd3,Qxd3+,Kxd3', 'https://lichess.org/training/d5CS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5ePN', 'Blitz', 'bingo95', 2590, 'Neuerungim34zug', 2371, 'e4,e5,Nf3,Nf6,d4,Nxe4,dxe5,d5,exd6,Nxd6,Bd3,Be7,O-O,O-O,c4,Bf5,c5,Bxd3,Qxd3,Ne8,Qb3,Bxc5,Qxb7,Nd7,Rd1,Nef6,Nc3,Bd6,Bg5,h6,Bh4,Rb8,Qxa7,Rxb2,a4,Qa8,Qxa8,Rxa8,Nb5,Ne4,Bg3,Bxg3,fxg3,Ndc5,Nxc7,Rxa4,Rxa4,Nxa4,Nd5,Nac3,Nxc3,Nxc3,Rd8+,Kh7,h3,h5,Rd7,f6,Nh4,Ne4,Kh2,Nd2,Nf5', 'Nf3+,Kh1,Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/d5ePN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D5fmM', 'Blitz', 'MartinHBG', 2110, 'RKTSK', 1988, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d6,e4,O-O,Be2,Nc6,d5,Nb8,O-O,Nbd7,Bg5,Nc5,Nd2,a5,Be3,a4,b4,axb3,Bxc5,b2,Rb1,dxc5,Na4,Bd7,Nxc5,Rxa2,Qb3,Qa8,e5,Ng4,Nxd7,Nxe5,Nxf8,Kxf8,Nf3,Ra3,Qc2,Nxf3+,Bxf3,Ra1,Be4,Qa2,c5,f5,Bf3,Bf6,d6,exd6,cxd6,cxd6,Rfd1,Be5,Bd5,Qa5,Qc8+,Kg7,Qxb7+,Kh6,h4,Rxb1,Rxb1,Qd2,Ba2', 'Qc1+,Rxc1,bxc1=Q#', 'https://lichess.org/training/D5fmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5GuX', 'Rapid', 'Iberian-Wolf', 1625, 'Hyphenium', 1690, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,d6,b4,Bb6,Nxc6,bxc6,Bd3,Nf6,Bg5,O-O,O-O,Re8,Nd2,c5,bxc5,Bxc5,Be3,Bxe3,fxe3,Bb7,Qf3,Qe7,Rab1,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Qxf7+,Kh8,Qxc7,Qxe3+,Kh1,h6,h3,Qg3,c4,Re2,Rg1,Qc3,a4,Rae8,Qxa7,R2e3,Rbc1', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/d5GuX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5Ivx', 'Classical', 'Ali_16', 2067, 'camaramen', 1970, 'd4,f5,Nf3,Nf6,c4,e6,Bg5,d5,e3,c6,Nc3,Bd6,c5,Be7,b4,a6,Be2,Nbd7,O-O,O-O,a4,h6,Bf4,g5,Be5,g4,Bxf6,Bxf6,Nd2,h5,f3,e5,fxg4,exd4,Nxd5,cxd5,Nb3,fxg4,Bxg4,Bg7', 'Be6+,Kh7,Qxh5+', 'https://lichess.org/training/d5Ivx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5JOZ', 'Rapid', 'siddhartha13', 1718, 'tolima307', 1791, 'd4,e6,c4,c5,d5,exd5,cxd5,Nf6,Nc3,d6,e4,Bg4,f3,Bh5,Bb5+,Nbd7,Nge2,Be7,O-O,O-O,Bf4,a6,Bxd7,Qxd7,e5,dxe5,Bxe5,Rad8,d6,Bxd6,Bxd6,Qxd6,Qxd6,Rxd6,Rad1,Rb6,Na4,Rb4,Nec3,b5,Nxc5,Rxb2,Nxa6,b4,Ne4,Nxe4,Rd5,Nd2,Rf2,Nxf3+,gxf3,Rxf2,Kxf2,g6,Nxb4,f5,a4,Rb8,Nc6,Rb2+,Ke3,Rxh2,Rd8+,Kg7,Rd7+,Kf6,Rd6+,Kg5,f4+,Kh4,a5,Re2+,Kd4,Rd2+,Ke5,Rxd6,Kxd6,Bf3', 'a6,Kg3,a7', 'https://lichess.org/training/d5JOZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5K0u', 'Rapid', 'CrniTaban-001', 1874, 'Asius', 1919, 'e4,e5,Bc4,Nf6,a3,Bc5,d3,O-O,h3,Nc6,Be3,Be7,Nd2,a6,Qe2,d6,Ba2,Be6,c4,Nd4,Bxd4,exd4,Ngf3,c5,O-O,Nd7,e5,Nxe5,Nxe5,dxe5,Qxe5,Bd6,Qh5,Qf6,Ne4,Qe7,Rae1,b6,f4,Bc7,f5,Bd7,Ng5,Qxg5,Qxg5,Rfe8,Rxe8+,Rxe8,f6,g6,b4,Bd6,Qh6,Bf8,Qg5,Re2,Bb1,Re3,bxc5,bxc5,a4,Bxa4,h4,Bc6,h5,Re2,Rf2,Re1+,Rf1,Re2,hxg6,hxg6,Kh2,a5,Rh1,Bd6+,Kh3,Bd7+,g4,Re3+,Kg2,Bc6+,Kf2,Bxh1,Qh6', 'Bg3+,Kf1,Re1#', 'https://lichess.org/training/d5K0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5Kvo', 'Rapid', 'gregorhyy', 1626, 'Ed-kar', 1628, 'e4,e5,Nf3,Qf6,Be2,Bc5,O-O,d6,c4,Ne7,Nc3,c6,d3,h6,a3,Be6,b4,Bb6,Na4,Nd7,Bb2,O-O,Nxb6,Nxb6,a4,Ng6,a5,Nd7,h3,Nf4,Bc1,Nxe2+,Qxe2,Qg6,Nh4,Qf6,Nf3,Rac8,Nh2,c5,b5,a6,b6,Nb8,Ng4,Bxg4,Qxg4,Nc6,f4,Kh8,fxe5,Qxe5,Bf4,Qe7,Rf3,Ne5,Bxe5,Qxe5,Raf1,Qd4+,Kh1,f6,Rg3,Rf7,Qg6,Rcf8,Rf4,Qa1+,Kh2,Qxa5,Rh4,Qd2,Rgg4,Qxd3', 'Rxh6+,gxh6,Qxh6+,Rh7,Qxf8#', 'https://lichess.org/training/d5Kvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5Lhn', 'Classical', 'chris2306', 1783, 'el_perro_orfeo', 1792, 'e4,c5,Nf3,g6,Nc3,Bg7,Be2,Nc6,O-O,Nf6,d3,d6,Rb1,Bd7,a3,a6,h3,Rc8,Be3,O-O,Qd2,b5,Bh6,Nd4,Nxd4,cxd4,Nd5,Nxd5,Bxg7,Kxg7,exd5,e5,dxe6,fxe6,Qb4,Qb6,Rbc1,e5,Bf3,Bxh3,Be4,Be6,Qe1,Rc5,f3,Bf5,Bxf5,gxf5,Qg3+,Kh8,Kf2,e4,Rh1,e3+,Ke2,f4', 'Rxh7+,Kxh7,Rh1+,Rh5,Rxh5#', 'https://lichess.org/training/d5Lhn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D5MgY', 'Blitz', 'joeboros', 1650, 'angelmonte', 1616, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,Nge7,Nc3,g6,Bf4,Bg7,Qd2,O-O,Nf3,d6,Bd3,Bg4,Qe3,Re8,h3,Nf5,Qe2,Ncd4,Qd1,Bxf3,gxf3,d5,Be3,dxe4,fxe4,Nxe3,fxe3,Nc6,Qg4,Ne5,Qe2,Qh4+,Qf2,Nf3+,Ke2,Qh5,Qxf3,Qc5,Nd1,Rad8,Rb1', 'Rxd3,cxd3,Qc2+,Ke1,Qxb1', 'https://lichess.org/training/D5MgY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D5p1B', 'Rapid', 'starlightextinction', 2057, 'STRONG_NIK', 2106, 'Nf3,Nf6,b3,g6,Bb2,Bg7,g3,d6,Bg2,c6,O-O,O-O,d3,e5,c4,Ne8,d4,Nd7,dxe5,dxe5,Nbd2,e4,Bxg7,exf3,Bxf8,fxg2,Kxg2,Nxf8,Qc2,Nf6,e4,Qd7,Rh1,Ne6,Nf3,Qe7,Rad1,c5,e5,Ne8,Rhe1,b6,Rd5,Bb7,Red1,Bxd5,cxd5,N6g7,Qe4,Rd8,Nd2,Nf6,exf6,Qxf6,Nc4,b5,Qe5,Qa6,Ne3,Qxa2,d6,Qxb3,Qxc5,Ne6,Qe5,a5,Nd5,Qxd1', 'Ne7+,Kf8,Qh8#', 'https://lichess.org/training/D5p1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5PLZ', 'Rapid', 'SKamillo', 2096, 'RP-PK', 1790, 'e4,e5,Nc3,Nc6,f4,Bb4,Nd5,Nf6,Nxb4,Nxb4,d3,d5,fxe5,Ng4,c3,Nc6,exd5,Ncxe5,d4,Qf6,Qe2,O-O,dxe5,Nxe5,Bd2,Bg4,Qf2,Qg6,Be2,Rfe8,O-O-O', 'Bxe2,Qxe2,Nd3+,Qxd3,Qxd3', 'https://lichess.org/training/d5PLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5QAJ', 'Rapid', 'Zohairkh', 1874, 'considid', 1837, 'e4,e5,d4,exd4,c3,Nc6,Nf3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Nc3,Bxc3+,Bxc3,f6,e5,Qe7,O-O,Qd8,exf6,Nxf6,Re1+,Ne7,Ng5,d5,Bxd5,Qxd5,Bxf6,gxf6,Qh5+,Kf8,Rad1,Qxg5', 'Rd8+,Kg7,Rxe7#', 'https://lichess.org/training/d5QAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D5Qfw', 'Classical', 'Pedropablo72', 1867, 'Midnightokar', 1814, 'e4,c6,f4,d5,Nc3,d4,Nce2,c5,Nf3,Nf6,d3,Nc6,Ng3,e6,Be2,Be7,O-O,b6,e5,Nd5,Ne4,Bb7,Bd2,Qc7,Qc1,O-O-O,a4,a5,c3,h6,g4,f5,gxf5,exf5,Ng3,g6,h4,Rdg8,Kf2,Nd8,h5,Ne6,hxg6,Rxg6,Nxf5,Rhg8,Rg1,Bf8,Rxg6,Rxg6,cxd4,cxd4,Qxc7+,Kxc7,Rc1+,Kb8,Rg1,Ndxf4,Rxg6,Nxg6,Nxh6,Bxf3,Bxf3,Nxe5,Be4', 'Bxh6,Bxh6,Ng4+,Kf3,Nxh6', 'https://lichess.org/training/D5Qfw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5rxY', 'Rapid', 'CareerDelRook', 2004, 'Lulu1001', 1878, 'd4,e5,dxe5,Nc6,Nc3,Qe7,Nf3,Nxe5,Nxe5,Qxe5,e3,b6,Bd3,Bb7,O-O,Qg5,Be4,Bxe4,Nxe4,Qe5,Qd3,Nf6,Nxf6+,gxf6,f4,Qe6,b3,Bc5,Rf3,O-O-O,a4,f5,a5,Kb7,axb6,cxb6,Qa6+,Kc6,Qd3,Rhg8,Rxa7,Qe4,Qxe4+,fxe4,Rf2,f5,Rd2,Bxe3+,Kf1,Bxd2,Bxd2,Rg6,Bc3,Rdg8,g3,h5,Be5,d6,Bd4,h4,Bf2,h3,Ra6,Rb8,c4,Re6,Be3,d5,c5,Kb5,Ra4,bxc5,Ke2,d4,Bd2,d3+,Ke3,Rbb6,Ra5+,Kc6,Bc3,Ra6,Rxa6+,Kd5,Rxe6,Kxe6,Be5,Kd5,Bc3,c4,bxc4+,Kxc4,Be5,Kb3,Bd4', 'Kc2,Bb6,d2', 'https://lichess.org/training/d5rxY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5S5m', 'Classical', 'RusyaOne', 1909, 'kresevica', 1766, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Nc3,e6,d4,cxd4,Nxd4,Nxd4,Qxd4,Be7,e5,Nd5,Nxd5,exd5,Qxd5,O-O,Be3,Bg5,Bc5', 'Qa5+,b4,Qxb5', 'https://lichess.org/training/d5S5m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D5SLV', 'Blitz', 'GM Next_Touch', 2727, 'Paavo87', 2566, 'd4,d5,c4,e6,Nf3,a6,g3,dxc4,Bg2,b5,Ne5,c6,O-O,Bb7,b3,cxb3,Qxb3,Qxd4,Bb2,Qb6,Nc3,Nf6,a4,Nbd7,Nxd7,Nxd7,Rfd1,Nf6,Ne4,Nxe4,Bxe4,Bc5,Bxg7,Bxf2+,Kg2,Rg8,Bf6,Be3,Rd3,Bg5,Qb2,Bxf6,Qxf6,c5,Bf3,c4,Bxb7,Qxb7+,Rf3,Rd8,axb5,axb5,Qe5,b4,Qc5,c3', 'Ra7,Qxa7,Qxa7', 'https://lichess.org/training/D5SLV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D5tmQ', 'Blitz', 'emrakg', 1604, 'aban991', 1669, 'c4,e5,Nc3,c6,Nf3,f6,g3,d5,cxd5,cxd5,Bg2,Bc5,O-O,Ne7,d4,exd4,Nxd4,O-O,Qc2,Nbc6,Nxc6,Bxf2+,Rxf2,bxc6,Bf4,Qb6,Na4,Qd4,b3', 'Qxa1+,Rf1,Qd4+,e3,Qb4', 'https://lichess.org/training/D5tmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D5uK1', 'Blitz', 'Leo2m', 1945, 'grzechu', 1840, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Nfd7,Nf3,Be7,Bxe7,Qxe7,exd5,exd5+,Be2,c6,Qd2,O-O,O-O-O,Nf6,Bd3,Bg4,Rhe1,Qc7,h3,Bh5,g4,Bg6,Bxg6,hxg6,Ne5,Nbd7,h4,Nxe5,dxe5,Ne4,Nxe4,dxe4,Rxe4,Rad8,Qe2,Rxd1+,Qxd1,Rd8,Qe2,Qe7,h5,gxh5,gxh5,Qg5+,Kb1', 'Qg1+,Qe1,Rd1+,Qxd1,Qxd1#', 'https://lichess.org/training/D5uK1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5VHZ', 'Blitz', 'phil_marlowe21', 2051, 'MostafaEL3geb', 2068, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,d5,Nc3,Nc6,Be3,dxe4,Nxe4,Nxd4,Bxd4,f6,Qd3,e5,Bc3,Qxd3,Bxd3,Be6,O-O,O-O-O,a4,Ne7,Ba5,b6,Ba6+,Kb8,Bb4,Nc6,Bc3,Bf5,Ng3,Bxc2,Rfc1,Bb3,a5,bxa5,Bxa5,Nxa5,Rxa5,Bd5,Rb5+,Ka8,Nf5,g6,Ne3,Be4,f3,Bh6,Kf2,Bd5,Nxd5,Rxd5', 'Bb7+,Kb8,Bxd5#', 'https://lichess.org/training/d5VHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D5vRk', 'Blitz', 'hontoba', 1750, 'mosabkira', 1717, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,c6,Nf3,Nbd7,Qc2,h6,Bh4,O-O,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,Ne4,Rc8,O-O,c5,dxc5,Nxe4,Bxe7,Qxe7,Bxe4,Bxe4,Qxe4,Nxc5,Qb4,a6,Rac1,Qa7,Rfd1,Nd7,Qe7,Rxc1,Rxc1,Qb7,Rd1,Nc5,Qxc5,Rc8,Qd4,Rc4,Qd8+,Kh7,h3,Rc2,Rd2,Rc8,Qd7,Qb8,g4,Qa8,Ne5,Rc1+,Kh2', 'Qh1+,Kg3,Rg1+,Kh4,g5+,Kh5,Qxh3#', 'https://lichess.org/training/D5vRk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D5VvX', 'Bullet', 'BazonHik', 1565, 'Hojat2020', 1515, 'e4,e6,b3,c5,Bb2,a6,d4,b5,dxc5,Bxc5,Bd3,Qh4,Qd2,Ne7,g3,Qh6,Qxh6,gxh6,Bxh8,Nbc6,Nf3,Bb7,O-O,O-O-O,Bg7,h5,Bf6,Re8,a4,b4,Nbd2,Ng6,Nc4,Rg8,e5,h4,Bxh4,Nf4,Bxh7,Rg7,Bd3,Na5,Nxa5,Nh3+,Kg2,Bd5,Bc4,Be4,Bd3,Ba8,Rac1,Nf4+,Kg1,Nh3+,Kg2,Nf4+,Kh1', 'Bxf3+,Kg1,Nh3#', 'https://lichess.org/training/D5VvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5Vzf', 'Blitz', 'Fridolf', 2297, 'GM ErikBlomqvist', 2596, 'e4,c5,Nc3,a6,g3,b5,a3,Bb7,Bg2,e6,d3,Nf6,Bg5,Be7,Nge2,h6,Bxf6,Bxf6,O-O,d6,h3,Nd7,Kh2,h5,f4,h4,g4,g5,f5,Ne5,Ng1,Qc7,fxe6,Bg7,exf7+,Nxf7,Nd5,Bxd5,exd5,Bxb2,Qe1+,Be5+,Kh1,O-O,Rb1,Bg3', 'Qe6,Rae8,Qg6+', 'https://lichess.org/training/d5Vzf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D5XDt', 'Rapid', 'Morris_Themane', 1759, 'aliraz', 1641, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,d3,Bd7,Bg5,Be7,Bxf6,Bxf6,Nd5,O-O,O-O,a6,Bc4,b5,Bb3,Na5,c4,bxc4,Bc2,cxd3,Qxd3,Bb5,Qa3,Bxf1,Qxa5,Bb5,Nxc7,Rb8,b4,h6,h4,Be2,Bd1,Bxf3,Bxf3,Bxh4,g3,Bf6,Rc1,Qd7,Nd5,Qb5,Qa3,Rfc8,Rxc8+,Rxc8,Qe3,a5,Nxf6+,gxf6,Qxh6,Qxb4,Qxf6,Kf8', 'Qh8+,Ke7,Qxc8', 'https://lichess.org/training/D5XDt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d5yHx', 'Classical', 'tsuceara1', 1837, 'ForkerofQueens', 1794, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,c5,a3,cxd4,axb4,dxc3,bxc3,O-O,Nf3,Nc6,Be2,d5,c5,Qc7,O-O,Bd7,h3,a5,Bd2,Ne4,Qb3,Ne5,Nxe5', 'Nxd2,Qd1,Nxf1', 'https://lichess.org/training/d5yHx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D60yz', 'Rapid', 'ShuShuKa', 1846, 'herdos', 1844, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Nge2,c5,Be3,cxd4,Nxd4,a6,Qd2,Re8,Be2,Nc6,h4,Nh5,g4,Ng3,Rh2,Nxe2,Ncxe2,Qa5,Nc3,Ne5,Qe2,Nc6,O-O-O,b5,cxb5,axb5,Ndxb5,Be6,a3,Rab8,h5,Rec8,b4,Nxb4,axb4,Qa1+,Kd2,Bxc3+,Nxc3', 'Qxc3#', 'https://lichess.org/training/D60yz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D61XQ', 'Blitz', 'WIM malybalaganiarz', 2316, 'kontsarsi2004', 2321, 'e4,c5,Nc3,a6,g3,b5,Bg2,Bb7,Nge2,e6,d4,cxd4,Nxd4,Nc6,a3,Bc5,Nb3,Bb6,O-O,Nge7,e5,Qc7,Ne4,O-O,Nd6,Nc8,Nxb7,Qxb7,Bg5,Qc7,Qe2,Rb8,Bf4,N8e7,Rfe1,Ng6,Rad1,Rbc8,Rd2,Nxf4,gxf4,Rfd8,Red1,Ne7,Nc1,Ng6,Nd3,d5,Qg4,Qc4,h4,h5,Qxh5,Nxf4,Nxf4,Qxf4,Re2,Rc4,b3,Qxh4,Qxh4,Rxh4,c4,bxc4,bxc4,Rxc4,Rb2,Bd4,Rb7,Bxe5,Ra7,Ra4,Rb1,Rxa3,Rbb7,f5,Bf1,Bd4,Rxa6,Rxa6,Bxa6,Rd6,Rb8+,Kh7,Bc8,Kg6,Rb7,Kf6,Bd7,g5,Be8,Ke5,Kg2,Kf4,Re7,e5,Rf7,Ke4,Bd7,f4', 'Bf5#', 'https://lichess.org/training/D61XQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D6221', 'Rapid', 'NAzar2024', 1942, 'Ibrahim777888', 1815, 'd4,d5,c4,dxc4,e4,f6,Bxc4,e5,Bxg8,Rxg8,Nf3,Bg4,d5,Nd7,O-O,Nc5,Nc3,Qd7,b4,Na6,a3,O-O-O,Be3,Kb8,Qe2,c6,dxc6,Qxc6,Nxe5,fxe5,Qxg4,Qxc3,Qe6,Bd6,Rfc1,Qd3', 'Rd1,Qxe4,Rxd6', 'https://lichess.org/training/D6221');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d633i', 'Rapid', 'omarito9910', 1831, 'mihbell', 1743, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Nge7,Bb5,Bd7,O-O,Nxe5,Nxe5,Bxb5,Re1,Nf5,Nc3,Bd7,Qf3,Bd6,g4,Bxe5,Rxe5,Nxd4,Qf4,Nc6,Rg5,e5,Rxe5+,Nxe5,Qxe5+,Qe7,Qxg7,O-O-O,Bg5,Rdg8,Qxg8+,Rxg8,Bxe7,Rxg4+,Kf1,d4,Nd5', 'Bb5+,Ke1,Rg1+,Kd2,Rxa1', 'https://lichess.org/training/d633i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D64Xs', 'Rapid', 'Dzuynuri', 1928, 'Basillio88', 1956, 'b4,d5,Bb2,a6,Nf3,Nc6,a3,Nf6,e3,Bg4,c4,e5,b5,axb5,cxb5,e4,bxc6,bxc6,Be2,exf3,Bxf3,Bf5,O-O,Be7,Nc3,O-O,h3,h6,Ne2,Bd3,Re1,Rb8,Nf4,Be4,Bxf6,Bxf6,Ra2,Rb1,Qe2,Bxf3,gxf3,Rb3,Qd1,Qb8,Qc2,Qb5,a4,Qb6,Rc1,d4,Qxc6,dxe3,fxe3,Rb1,Qxb6', 'Rxc1+,Kh2,cxb6', 'https://lichess.org/training/D64Xs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D661x', 'Rapid', 'MisterMu', 1670, 'Aymen55ST', 1664, 'c4,Nc6,Nc3,e5,g3,Nf6,Bg2,b6,b4,Rb8,a3,Bb7,e4,Nd4,Nge2,c6,O-O,c5,Nxd4,cxd4,Nd5,Nxd5,cxd5,Bd6,d3,O-O,h3,b5,Qg4,Be7,Bh6,Bf6,f4,d6,Bg5,Bc8,Bxf6,Qxf6,fxe5', 'Qxf1+,Bxf1,Bxg4', 'https://lichess.org/training/D661x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D6bh9', 'Rapid', 'jbm28', 1626, 'SevostD', 1620, 'd4,Nf6,Nc3,d5,Qd3,Bd7,e4,dxe4,Nxe4,Bf5', 'Nxf6+,exf6,Qxf5', 'https://lichess.org/training/D6bh9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D6bwc', 'Rapid', 'webersalgado', 2018, 'Hussein1999', 2005, 'e4,e5,Bc4,Bc5,Qe2,d6,Nf3,Nf6,c3,a6,a4,O-O,O-O,h6,d3,Bg4,Be3,Nbd7,Nbd2,c6,Bxc5,Nxc5,b4,Ne6,Qe3,d5,Bb3,d4,cxd4,exd4,Qe1,Nf4,Bc2,Re8,Nb3,Bxf3,gxf3,Nh3+,Kh1,Nh5,Qd2,N5f4,Rg1,Qh4,Rg3,f5,Nxd4,fxe4,Nf5,Qf6,Nxg7,Qxa1+,Bd1,Qxg7,Rxg7+,Kxg7,dxe4,Rad8,Qc3+,Kg6,Bc2,Kh5,Qf6,Rf8,Qe5+,Kh4,Qe7+,Kh5,Qe5+,Ng5,Bb3,Rd7,h3,Nxh3,Be6,Rd1+,Kh2,Kh4,Qg3+,Kh5,Bg4+,Kg6,Bf5+,Rxf5,exf5+,Kxf5,Qg4+,Ke5', 'f4+,Nxf4,Qxd1', 'https://lichess.org/training/D6bwc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d6bXt', 'Rapid', 'Pyrrhulak', 1941, 'Millikan', 1973, 'c4,c6,d4,d5,c5,Bf5,Nc3,Nd7,Bf4,e6,e3,b5,b4,a5,a3,axb4,axb4,Ngf6,Nf3,h6,Be2,Be7,h3,O-O,O-O,Qc8,Ne5,Nxe5,Bxe5,Nd7,Bf4,Bd8,Qb3,Qb7,Ra3,Rxa3,Qxa3,Bc7,Ra1,Bxf4,exf4,f6,Qa7,Rb8,Bh5,g5,Be8,e5,fxe5', 'Qxa7,Rxa7,Rxe8', 'https://lichess.org/training/d6bXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d6dhq', 'Rapid', 'madmagic33', 1643, 'daguilarCHT', 1683, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Ne7,Be3,Nf5,h4,Nxe3,Qxe3,Qb6,b3,c5,Nc3,cxd4,Nxd4,Nc6,Na4,Qa5+,c3,Qc7,Nxc6,bxc6,Nc5,Qb6,b4,Bxc5,bxc5,Qa6,Qe2,Qxe2+,Kxe2,Ke7,f4,Rab8,Rhb1,Rhc8,Kd3,Rb5,Rxb5,cxb5,Kd4,a6,a4,f6,axb5,axb5,Ra7+,Kf8,exf6,gxf6,Rxh7,e5+,Kxd5,Rd8+,Ke6,Re8+,Kxf6,e4,Rf7+,Kg8,Re7', 'Rxe7,Kxe7,e3', 'https://lichess.org/training/d6dhq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D6DvR', 'Rapid', 'BeefStapler', 1763, 'SAMAT7282', 1772, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,h3,h6,O-O,a6,a4,Nf6,Nc3,Bd7,Be3,Nd4,Nd5,c6,Nxf6+,Qxf6,Nxd4,exd4,Bd2,O-O,b4,Ba7,Qh5,Rae8,Rae1,Bb8,a5,Re5,Qd1,Ree8,Qa1,Qe5,f4,Qf6,Rf3,Qh4,c3,c5,cxd4,cxd4,Qxd4,Be6,Bc3,f6,Bd5,Kh8,Bxb7,Re7,Bxa6', 'Ba7,Qxa7,Rxa7', 'https://lichess.org/training/D6DvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d6epQ', 'Classical', 'Drugstepey89', 1832, 'ali212121', 1836, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Nc3,Bb7,Qf3,Bb4,Bd2,d5,Bb3,Nxe4', 'Nxe4,Bxd2+,Nxd2', 'https://lichess.org/training/d6epQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D6FL3', 'Classical', 'Alfred_Bourdon', 1685, 'AShevchenko', 1656, 'e4,e5,Nf3,d6,d4,Nc6,dxe5,Bg4,exd6,Bxf3,Qxf3,Bxd6,Bc4,Nf6,Qb3,Ne5,Qb5+,c6,Qxb7,Nxc4', 'Qxc6+,Nd7,Qxc4', 'https://lichess.org/training/D6FL3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D6fQy', 'Rapid', 'Thiago_Oliveira', 1726, 'valenok11', 1633, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bg4,Be2,e6,h3,Bh5,Nc3,a6,Bf4,Bd6,Bxd6,Qxd6,Ne5,Bxe2,Qxe2,Nc6,O-O,Nxd4,Qe3,Nxc2,Qg3,Nxa1', 'Qxg7,Qf8,Qxh8', 'https://lichess.org/training/D6fQy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d6I7Z', 'Blitz', 'IM Lynxinner', 2548, 'YSA_kbpl', 2355, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Nxe4,Qd5,Nc5,Bg5,Be7,h4,Ne6,Nc3,Nb4,Qb3,a5,a3,Nc5,Qc4,Nxc2+,Kd1,Nxa1,Nd5,Bxg5,Qxc5,c6,hxg5,cxd5,Qxd5,Qb6,Bc4,Qxb2,Qxf7+,Kd8,Qxg7,Qc2+,Ke1,Qc1+,Ke2,Qxc4+,Ke3,Nc2+,Kd2,Re8,Qf6+,Re7,Qd6,Nxa3,Qf6,Qb4+,Ke3,Nc4+,Ke2,Qb2+,Kd3,Qb3+,Kd4,Qb6+,Kxc4,Qc6+,Kd4,a4,Qf8+,Re8,Qf4,Ra5,Rc1,Rd5+,Ke3,Qb6+,Ke2,Qb2+,Kf1,Qb5+,Kg1,Rc5,Qf6+,Kc7', 'Qd6+,Kd8,Rxc5', 'https://lichess.org/training/d6I7Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d6IiE', 'Rapid', 'rengren', 1646, 'literabit4477', 1701, 'e4,e5,Bc4,Nf6,Nc3,Be7,Nf3,O-O,Nxe5,Nxe4,Nxe4,d5,Nc3,dxc4,Nxc4,Re8,O-O,Be6,Ne5,f6,Nf3,Bf7,d3,Nc6,Be3,Ne5,Nxe5,fxe5,f4,exf4,Rxf4,Bg5,Rxf7', 'Bxe3+,Kh1,Kxf7', 'https://lichess.org/training/d6IiE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D6iyF', 'Rapid', 'Zote_M', 2336, 'nimeni21', 2286, 'c4,e5,Nc3,g6,Nf3,Bg7,g3,Ne7,Bg2,O-O,O-O,c6,d4,d6,Bg5,h6,Bxe7,Qxe7,e4,f5,dxe5,dxe5,Nh4,Qf7,exf5,gxf5,Qe2,Be6,b3,Nd7,Rad1,Rad8,Bf3,e4,Bh5,Qf6,Ng6,Qxc3,Nxf8,Rxf8,f3,Nf6,Bg6,Qe5,fxe4,fxe4,Rf4,Qg5,Bxe4,Nxe4,Qxe4,Rxf4,Qxf4,Qxf4,gxf4,Kf7,Kf2,Bc3,Rd8,Bf5,Rb8,b6,Rb7+,Kg6,Rxa7,Kh5,Ke3,b5,Rc7,Bb1,Rxc6,b4,Rc5+,Kg4,Ra5,Bb2,c5,Bc1+,Kd4,Bxf4,c6,Bxh2,Ra7', 'Bg1+,Kd5,Bxa7,c7,Bf5', 'https://lichess.org/training/D6iyF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D6k47', 'Rapid', 'vit-lik', 1814, 'hasan123', 1850, 'e4,c5,Bc4,e6,Nc3,b6,Nf3,Bb7,d4,cxd4,Qxd4,Nc6,Qd3,Bb4,O-O,Nge7,Bg5,Bxc3,Qxc3,f6,Bd2,O-O,h3,Ng6,Bd3,Nce5,Nxe5,Nxe5,f4,Rc8,Qa3,Nxd3,Qxd3,a5,c3,d5,exd5,Bxd5,Be3,Qc7,Rac1,Rfd8,Qb5,Rb8,Qe2,Bc4,Qg4,Bxa2,c4,f5,Qe2,Bb3,Rc3,Ba4,b3,Bc6,Rd3,Be4,Rd4,Rxd4,Bxd4,Rd8,Rd1,Qxf4,Bxb6,Rxd1+,Qxd1,Qb8,Bxa5', 'Qa7+,Kh2,Qxa5', 'https://lichess.org/training/D6k47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d6Mz2', 'Rapid', 'tangent45', 1679, 'jugador1000', 1713, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,h3,Be7,d4,exd4,Nxd4,Bd7,O-O,Nc6,Nxc6,Bxc6,Qd4,O-O,Qe3,a6,a4,b5,axb5,axb5,Rxa8,Qxa8,Bb3,Nxe4,f3,Bg5,f4,Bf6,Nxe4,Bxe4,Rf2,c5,Qg3,c4,f5,cxb3,c3,Qc6,Bxh6,d5,Bf4,d4,cxd4,Bxd4,Be3,Bxe3,Qxe3,f6,Qg3,Qd5,Kh2,Qe5,Rf4,Qxb2,Rxe4,Qc1', 'Qxb3+,Rf7,Re8+,Kh7,Qxf7', 'https://lichess.org/training/d6Mz2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D6NPc', 'Rapid', 'bill_gates', 1614, 'Benevolence', 1697, 'd4,c5,d5,Nf6,c4,d6,Nc3,a6,a4,Bf5,Qb3,Qc7,a5,g6,Qa4+,Nbd7,f3,g5,e4,Bg6,Bxg5,Bg7,Bd3,O-O,Nge2,b6,O-O,Ne5,Rfd1,Nxd3,Rxd3,bxa5,Qxa5,Qb7,Rd2,Qb3,Qa4,Rfb8,Ra3,Qb4,Nc1,Nd7,Qxd7,Bd4+,Kf1,Rb7,Qa4,a5,Nd3,Qxa4,Rxa4,f6,Bh4,Bxc3,bxc3,Rb3,Rc2,Rb1+,Ke2,Rg1,Kf2,Rd1,Ke2,Rg1,g4,Be8,Raa2,a4,Ra3,h5,gxh5,Bxh5,Bg3,Rg2+,Kd1,Bxf3+,Kc1,Rg1+,Kd2,Bxe4,Rc1,Rg2+,Ke3,f5,Nf2,Kf7,Nxe4,fxe4,Kxe4,Re2+,Kd3,Rg2,Rf1+,Kg6,Re1,Rb8,Re2,Rg1,Re1,Rg2,Re2,Rg1,Raa2,Rbb1,Rxa4,Rbd1+,Ke3,Rc1,Kd3,Rgd1+,Rd2,Rf1,Raa2,Rf3+,Ke2,Rcxc3,Rac2', 'Rce3+,Kd1,Rf1+,Be1,Rfxe1#', 'https://lichess.org/training/D6NPc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d6pVa', 'Blitz', 'IM MilovanR', 2537, 'IM RL12', 2512, 'd4,Nf6,Bg5,c5,Bxf6,gxf6,d5,Qb6,Qc1,Bh6,e3,f5,c4,O-O,Nc3,Qg6,Nh3,d6,Qc2,e5,Be2,Nd7,O-O-O,Nf6,Rhg1,f4,Bd3,Qh5,exf4,Kh8,Kb1,Bxh3,gxh3,Bxf4,Bf5,a6,Rg2,Rab8,Rdg1,b5,Bg4,Qh6,cxb5,axb5,Qf5,Rg8,Bf3,Rg6', 'Rxg6,hxg6,Qxf6+', 'https://lichess.org/training/d6pVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d6pxR', 'Rapid', 'alaakas', 1754, 'tslayer', 1672, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,c5,Bg5,Be7,dxc5,Bxc5,Bxf6,Qxf6,Qxd5,Be7,O-O-O,O-O,Nb5,a5,Nc7', 'Qf4+,Kb1,Qxc7', 'https://lichess.org/training/d6pxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d6rFL', 'Rapid', 'Pan1605', 1660, 'ChristopherRyan', 1652, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,e5,Nc3,Nf6,Bc4,Bb4,Nf3,O-O,Bd2,Bxc3,Bxc3,d5,exd5,Nxd5,Bxd5,Qxd5,O-O,e4,Ng5,f6,Nxe4,f5,Ng5', 'f4,Qe2,Qxg5', 'https://lichess.org/training/d6rFL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d6RtF', 'Rapid', 'manhastamm', 2569, 'GM Bestinblitz', 2437, 'Nf3,d5,g3,Nc6,d4,Bf5,Bg2,e6,Bf4,Bd6,O-O,Bxf4,gxf4,h6,c4,g5,cxd5,exd5,Qd2,Qd6,Ne5,Nge7,Nc3,a6,f3,gxf4,Rad1,Nxe5,dxe5,Qxe5,Nxd5,Nxd5,Qxd5,Qxd5,Rxd5,Be6,Rd4,Bxa2,Rc1,c6,Rb4,O-O-O,b3,Rd2,Kf2,Re8,Bf1,a5,Ra4,Bxb3,Rxa5,Kc7,Rf5,Rd4,Ra1,Bc4,Rc1,b5,Rf6,Rh8,Bh3,h5,Rf5,b4,Rc5,Bd5,Bf5,Rb8,e4,Be6,Rxc6+,Kd8,Bxe6,fxe6,Rxe6,Rd2+,Ke1,Rxh2,Rh6,Rh1+,Kd2,Rxc1,Kxc1,Rb5,Rf6,h4,Rh6,Rc5+,Kd2,Rc3,Ke2,b3,Rh8+,Kc7,Rh7+,Kc6,Rh8,h3', 'Rc8+,Kb5,Rxc3', 'https://lichess.org/training/d6RtF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d6Sxy', 'Rapid', 'bbeltkyle89', 1858, 'blackdeath4', 1674, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,Nc6,e4,Nb6,Bd3,Bg4,Be3,Bxf3,gxf3,e5,d5,Nd4,Nc3,Bb4,f4,f6,fxe5,fxe5,Qh5+,Kf8,Qxe5', 'Nf3+,Ke2,Nxe5', 'https://lichess.org/training/d6Sxy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D6vwQ', 'Blitz', 'Mahmoudquzah', 1689, 'Gabrielmajorana', 1672, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Be6,Bd3,d5,e5,Ng4,Bf4,Qh4,g3,Qh5,Be2,g5,Bd2,Qh3,Bxg5,Nxe5,Bf6,Qg2,Rf1,Bh3,Bxh8', 'Nf3+,Bxf3,Qxf1+,Kd2,Bh6#', 'https://lichess.org/training/D6vwQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D6zfp', 'Rapid', 'Fuad_Mammadov', 1965, 'Stainiz', 1930, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nf6,Nc3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Bg5,e5,Qd3,Be7,O-O-O,O-O,Bxf6,gxf6,h4,Qd7,g4,Kh8,Rdg1,Rg8,g5,fxg5,Nxg5,Rg7,Nd5,Rag8,Nxe7,Qxe7,Rd1,f6,Nf3,Rg2,Rhg1,Rxf2,Rxg8+,Kxg8,Qb3+,Kf8,Rg1,Qf7,Qb4,Rxf3,Qxd6+,Ke8,Qb8+,Ke7,Qc7+,Kf8,Qd8+,Be8', 'Qd6+,Qe7,Rg8+,Kxg8,Qxe7', 'https://lichess.org/training/D6zfp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d74Vd', 'Rapid', 'zeqsi', 1909, 'Steve_B', 1929, 'e4,c6,d4,d5,e5,e6,f4,Qh4+,g3,Qd8,Nf3,Nh6,Bd3,a6,O-O,b6,c4,Be7,cxd5,cxd5,Qa4+,Bd7,Qc2,Nc6,a3,Nf5,Bxf5,exf5,Nc3,Rc8,Qd3,Nb8,Nxd5,Bb5,Qb3,Be2,Rf2', 'Bc4,Qc2,Bxd5', 'https://lichess.org/training/d74Vd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d77je', 'Rapid', 'AndreyZakharov', 1893, 'kuzeylice', 1917, 'e4,d6,Nf3,g6,Bc4,Bg7,O-O,Nf6,Re1,O-O,h3,c5,c3,d5,exd5,Nxd5,d4,e6,Bg5,Qb6,Qd2,cxd4,cxd4,Rd8,Bxd8,Qxd8,Nc3,Nb6,Bb3,Nc6,Rad1,Na5,Bc2,Nac4,Qc1,Bd7,b3,Nd6,Ne5,Be8,Ne4,Rc8,Qd2,Nb5,Nc4,Nd5,a4,Nxd4,Ned6,Nxc2,Nxc8', 'Nxe1,Qxe1,Qxc8', 'https://lichess.org/training/d77je');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D78Dh', 'Rapid', 'SMOKI84', 1815, 'ravil1', 1876, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Bxc6,Bxc6,Nxc6,bxc6,O-O,Nf6,Re1,Be7,b3,O-O,Bb2,Nd7,c4,Bf6,Bxf6,Qxf6,Nd2,Rfe8,f3,Re7,Kh1,Rae8,Nf1,Qf4,Ng3,Re6,e5,Nxe5,Re4,Qg5', 'f4,Qf6,fxe5', 'https://lichess.org/training/D78Dh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d78Kh', 'Classical', 'Victorlefer22', 1629, 'Movelikejigger', 1741, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,d4,exd4,Qxd4,d6,O-O,Nf6,Bg5,Be7,h3,O-O,Qd2,Rb8,b3,Nxe4,Bxe7,Qxe7,Qe2,Qf6,Nbd2,Nc3,Qc4,Nb5,a4,Nc3,Rfe1,Be6,Qxc6,Bd5,Qxc7,Rfe8,Rxe8+,Rxe8,Re1,Rxe1+,Nxe1,h6,Qc8+,Kh7,Qg4,Be6,Qf3,Qe5,Kf1,Bd5,Qd3+,Be4,Nxe4,Nxe4,f3,d5,fxe4,dxe4,Nf3', 'Qa1+,Ke2,exd3+', 'https://lichess.org/training/d78Kh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d78uz', 'Rapid', 'apeoperaia3', 1884, 'DakotaHale43', 2000, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,f3,O-O,Qd2,d6,O-O-O,Bd7,g4,Qa5,Nb3,Qb4,Bh6,Rac8,Bxg7,Kxg7,h4,Ne5,Be2,h5,g5,Ne8,Nd5,Qxd2+,Rxd2,Nc6,Nd4,e6,Nf6,Nxf6,gxf6+,Kxf6,Nb5,d5,Nd6,Rc7,exd5,exd5,Rxd5,Be6,Ne4+,Kg7,Rd2,Nb4,b3,Nxa2+,Kb2,Nb4,Rg1,Rfc8,Rc1,Nd5,Nd6,Rd8,Nb5,Rc5,Nd4,Rcc8,c4,Nf4,Rcd1,Nxe2', 'Nxe6+,fxe6,Rxd8,Rxd8,Rxd8', 'https://lichess.org/training/d78uz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D7bnb', 'Rapid', 'ahmed19812013', 1827, 'n877591', 1851, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,b5,Bb3,Na5,Nxe5,Nxb3,axb3,Bb7,Qf3,f6,Qh5+', 'g6,Nxg6,Nxg6', 'https://lichess.org/training/D7bnb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D7cAk', 'Blitz', 'DonGrunello', 2045, 'toddi', 2067, 'e4,d5,exd5,c6,d6,exd6,d4,d5,Nf3,Bd6,Nc3,Nf6,Bg5,O-O,Be2,Nbd7,Qd2,Re8,O-O-O,Nf8,h4,b5,Rde1,b4,Nd1,Bf5,Bd3,Bxd3,Qxd3,Qa5,Kb1,Ne4,Ne3,Nxf2,Qd2,Nxh1,Rxh1,Qc7,Nf5,Ng6,h5,Bf4,Bxf4,Nxf4,Ne5,Rxe5,dxe5,Qxe5,g4,Re8,h6,g6,Ng7,Re7,b3,a5,Rf1,Ne6,Re1,Qc3,Qe2,Qf6,Qa6,Nxg7,Qc8+,Ne8', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/D7cAk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D7GRG', 'Rapid', 'solitary_beginner', 1665, 'Furkan347', 1670, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,b3,d6,Bb2,Be6,Nd5,Nxe4,d4,exd4,Bxd4,Nxd4,Nxd4,Nf6,Nxe6,fxe6,Nf4,Qe7,Kh1,Ne4,Bxe6+,Kh8,Qf3,Nd2', 'Ng6+,hxg6,Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/D7GRG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d7im1', 'Rapid', 'koichumen', 1605, 'WillBrasil777', 1652, 'e4,e5,Nf3,Nc6,Bb5,d6,d3,Bd7,Nc3,Nf6,Nd5,a6,Bxc6,Bxc6,c4,b5,Be3,Be7,O-O,Rb8,Rb1,Bxd5,cxd5,O-O,d4,exd4,Nxd4,Rc8,Qf3,Qd7,Qg3,Nxe4,Qf4,f5,Rbe1,g6,Ne6,Rf7,g4,Nc5,Qh6,Nxe6,dxe6,Qxe6,Bg5,Qd7,gxf5,Bxg5,Qxg5,Rxf5,Qh6,Qg7,Qh4,h6,Re7,Rg5+,Qxg5,hxg5,Rxg7+,Kxg7,Re1,Kf7,Kg2,c5,Kg3,Re8,Rd1,Re6,Kg4,Kf6,Rd5,Ke7,Kxg5,Re2,Kxg6,Rxf2,h4,Rh2,h5,Ke6,Rf5,Rg2+,Rg5,Rxb2,h6,c4', 'h7,Rh2,Rh5,Rxh5,Kxh5', 'https://lichess.org/training/d7im1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d7In3', 'Rapid', 'petitchess', 1811, 'neohesque', 1800, 'f4,d5,Nf3,Nf6,e3,g6,Nc3,Bg7,b3,c5,Bb2,O-O,Qe2,Bg4,h3,Bxf3,Qxf3,e6,O-O-O,Nc6,g4,a6,g5,Nd7,h4,b5,h5,c4,h6,Bh8,Ne2,Bxb2+,Kxb2,cxb3,cxb3,Ne7,Nd4,a5,Bxb5,a4,Bxa4,Rxa4,bxa4,Qb6+,Nb3,Nc5,e4,Rb8,Qc3', 'Nxa4+,Ka1,Nxc3', 'https://lichess.org/training/d7In3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D7JfH', 'Rapid', 'BlunderET', 1862, 'serg76', 1860, 'e4,e6,e5,d6,exd6,cxd6,Nf3,e5,Bb5+,Nc6,d4,a6,Bxc6+,bxc6,dxe5,d5,Nbd2,Bc5,O-O,Ne7,Nb3,Bb6,Bg5,O-O,c3,Bg4,h3,Bh5,Qd3,Qd7,Nfd4,c5,Bxe7,Qxe7,Nf5,Qd7,c4,Bg6,g4,d4,Qf3,Rfe8,Rfe1,Qc7,Nd6,Red8,h4,Rab8,h5,Bc2,Nc1,Rxd6,exd6,Qxd6,b3,d3,Qe3,Kf8,Nxd3,Bxd3,Rad1,Rd8,Rxd3,Qxd3', 'Qe7+,Kg8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/D7JfH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D7Mra', 'Rapid', 'GadirAzimzade', 2002, 'SFRA', 2007, 'e4,e5,Nf3,Nc6,Bc4,f5,exf5,e4,Ng1,Nf6,Ne2,d5,Bb5,Bxf5,Ng3,Bd7,O-O,Bc5,h3,O-O,d3,Qc8,Kh2,Bd6,dxe4,Nxe4', 'Qxd5+,Kh8,Qxe4', 'https://lichess.org/training/D7Mra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D7O4j', 'Rapid', 'vn-yar', 1924, 'Vidica', 1943, 'e4,e5,Nf3,d6,c3,Nf6,d4,exd4,cxd4,Be7,Bc4,O-O,Nc3,Bg4,O-O,Nfd7,Bf4,Bxf3,Qxf3,Bg5,Bxg5,Qxg5,e5,Nc6,e6,Nxd4,exf7+,Kh8,Qxb7,Ne5,f4,Nef3+,Rxf3', 'Nxf3+,Qxf3,Qc5+,Qf2,Qxc4', 'https://lichess.org/training/D7O4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d7oTq', 'Classical', 'nawrozov1975', 1767, 'ariaarayan', 1785, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Nf3,e5,b3,e4,Bc4,Qf5,Qe2,Be6,Nd4,Qf6,Bb2,Bc5,Qxe4,Nc6,c3,O-O,O-O,Nxd4,cxd4,Bxc4,bxc4,Rfe8,Qxb7,Bxd4,Bxd4,Qxd4,Qxc7,Qxd2,a4,Rec8,Qb7,a5,Rac1,Rab8,Rfd1', 'Qxd1+,Rxd1,Rxb7', 'https://lichess.org/training/d7oTq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d7Tlq', 'Rapid', 'Shturmovic', 2053, 'Pikkuherkko', 2089, 'g4,e5,Bg2,d5,d4,exd4,Qxd4,Be6,Nc3,Nc6,Qa4,Ne7,Bg5,f6,Bf4,Qd7,Nb5,Ne5,O-O-O,c6,Nd4,g5,Bg3,Bxg4,h3,Be6,Nxe6,Qxe6,Nf3,Nxf3,Bxf3,h5,e4,Kf7,exd5,Nxd5,Rhe1,Qf5,Qb3,b5,Rxd5,cxd5,Bxd5+,Kg7,Bxa8,Bc5,Qxb5', 'Be3+,fxe3,Qxb5', 'https://lichess.org/training/d7Tlq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d7Tqt', 'Blitz', 'BeatsNCoffee', 1596, 'bofsworld', 1628, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,h3,Be7,c3,Be6,d4,exd4,cxd4,Nxe4,d5,Bxh3,gxh3,a6,Bxc6+,bxc6,dxc6,d5,Nc3,Bd6,Qxd5,Nxc3,bxc3', 'Bh2+,Kxh2,Qxd5,Re1+,Kf8', 'https://lichess.org/training/d7Tqt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d7Twz', 'Bullet', 'GM penguingim1', 2797, 'GM DrDrunkenstein', 2802, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,e3,g6,Nc3,Bg7,Nf3,O-O,a4,e6,dxe6,fxe6,Qd6,Bb7,Qxc5,axb5,Bxb5,Na6,Qc4,Nd5,O-O,Nxc3,bxc3,Nc7,Ba3,Rxf3,gxf3,Bxf3,Bd6,Nd5,Bg3,Nxc3,Qf4,Bb7,Rac1,Rxa4,Qxa4,Nxa4,Bxa4,Qa5,Bd1,Qd5,f3,Qd2,Rc2,Qxe3+,Bf2,Qg5+,Bg3,Bd4+,Kg2,h5,h4,Qe3,Re2,Qd3,Ra2,Bd5,Rc2,Bxf3+,Rxf3,Qxd1,Rc8+,Kg7,Bf2,Qe2,Rcf8,Bxf2', 'R3f7+,Kh6,Rh8#', 'https://lichess.org/training/d7Twz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d7VDh', 'Rapid', 'antipositional', 2229, 'samehh66', 2115, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nc3,Bf5,Nf3,c5,d5,e6,Bg5,Be7,Qa4+,Nfd7,Bxe7,Qxe7,Be2,O-O,O-O,Nb6,Qb3,e5,Rfe1,N8d7,Nb5,e4,Bf1,a6,Nc3,Rfe8,Nd2,Qh4,Re3,Nf6,Qxb6', 'Ng4,Rh3,Qxf2+', 'https://lichess.org/training/d7VDh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D7vOK', 'Rapid', 'Shura73', 1775, 'ChessAtNight', 1814, 'e4,c5,Nc3,e6,g3,Qc7,Bg2,a6,Nf3,Bd6,d3,Nc6,O-O,Nge7,Be3,Ng6,a3,b6,Qd2,Bb7,Ne2,O-O,Ne1,Nce5,f4,Nc6,Nf3,Be7,Rae1,d6,c3,Rac8,Ng5,Qd8,f5,exf5,exf5,Nge5,Bf4,Rb8,Be4,d5,Bf3,c4,d4,Nxf3+,Nxf3,Rc8,Ng5,Na5,Be3', 'Nb3,Qc2,Bxg5', 'https://lichess.org/training/D7vOK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D7wEa', 'Rapid', 'ttv-mercilessowl', 1718, 'caminanteno', 1731, 'e4,Nc6,d4,e6,c4,Nge7,Nc3,g6,Nf3,Bg7,Be3,O-O,Qd2,d6,Bh6,e5,d5,Nd4,Nxd4,exd4,Bxg7,dxc3,Bxc3,f5,Bd3,Rf7,h4,fxe4,Bxe4,Bf5,Bxf5,Nxf5,h5,Re7+,Kf1,Qf8,Kg1,Rae8,hxg6,h6,g4,Re2,Qf4,R8e4,Qxf5', 'Rxg4+,Kf1,Qxf5', 'https://lichess.org/training/D7wEa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d7wKH', 'Blitz', 'furace', 1889, 'gondhest', 1739, 'e4,c5,c3,d6,d4,Nc6,Nf3,cxd4,cxd4,e6,Bd3,Nf6,O-O,Be7,Nc3,h6,Qe2,O-O,e5,dxe5,dxe5,Nd5,Qe4,f5,exf6,Nxf6,Qe2,a6,Bc4,Nd4,Nxd4,Qxd4,Bxe6+,Bxe6,Qxe6+,Kh8,Qxe7,Rae8,Qxb7,Ng4,Qd5', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/d7wKH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d7wVg', 'Rapid', 'grigorijjj', 1888, 'staffsy', 1767, 'e4,c5,f4,d6,Nf3,g6,d3,Bg7,Nc3,Nc6,g3,Bg4,Bg2,Bd4,h3,Bxf3,Qxf3,Qa5,Bd2,Qb4,Nd5,Qxb2,Qd1,Qxa1,Qxa1,Bxa1,Nc7+,Kd7,Nxa8,Nf6,Ke2,Bb2,Rb1,Ba3', 'Rxb7+,Kc8,Rc7+', 'https://lichess.org/training/d7wVg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d7XGv', 'Classical', 'max-jw', 1792, 'RudeRook', 1897, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Nf6,Bc4,Bb4,f3,O-O,O-O,Bxc3,bxc3,Qb6+,Kh1,Qc5,Qd3,Nh5,Be3,Qa5,Rab1,Nf4,Bxf4,exf4,e5,Qxe5,Rfe1,Qf6,Bb3,a5,a4,d5,Qd4,Qg6,Qxf4,Bf5,Rbc1,Rfe8,Qd2,Re6,c4,dxc4,Bxc4,Rd6,Qf4,Rad8,Qe3,Kf8', 'Qe7+,Kg8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/d7XGv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d7XSg', 'Blitz', 'IM linusj', 2507, 'Grandstodge', 2479, 'd4,e6,c4,Nf6,Nc3,Bb4,Bd2,c5,a3,Bxc3,Bxc3,O-O,Nf3,b6,g3,Bb7,Bg2,cxd4,Qxd4,Nc6,Qh4,Rc8,O-O,h6,Rfd1,Rc7,Ne5,d6,Nxc6,Bxc6,Bxf6,Qxf6,Qxf6,gxf6,b3,Bxg2,Kxg2,Rd8,Rd3,Kf8,Rd4,Ke7,Rad1,a5,a4,Rc5,Rh4,h5,Rhd4,Re5,e3,Rg5,Kh3,Rf5,f4,Rc5,e4,e5,Rd5,Rc6,Kh4,Rh8,Rf1,Ke6,Rd2,Rcc8,Rfd1,Rc6,Rf1,Rcc8,Rdf2,Rh6,Rd1,Rg8,Rfd2,Rd8,Rd5,Rhh8,Rb5,Rb8,Rb1,Rhc8,f5+,Kd7,Rd1,Rc5,Kxh5,Rh8+,Kg4,Rc6,h4,Kc7,Kh3,Rh7,Rbd5,Rg7,g4,Rh7,h5,Kd7,Kg3,Ke7,Rh1,Rc8,Rd2,Rg8,Rhd1,Rhg7,Rxd6,Rxg4+,Kf2,Rg2+,Ke3', 'R8g3#', 'https://lichess.org/training/d7XSg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D7ZBq', 'Rapid', 'elmasry1985', 1912, 'sslimbu', 1887, 'c4,e5,Nc3,Bc5,a3,a5,e3,Nf6,d4,Ba7,dxe5,Ng8,Bd3,d6,Nf3,Bg4,exd6,Qxd6,Be2,Nc6,O-O,Nf6,Qxd6,cxd6,h3,Bf5,b3,O-O,Bb2,Rad8,Rad1,Bc2,Rd2,Bxb3,Nb5,Ne4,Rd5,Bc5,Bd3,f5,Bxe4,fxe4,Rg5,g6,Nfd4,Bxc4,Rd1,Nxd4,exd4,Bxb5,dxc5,dxc5,Rxd8,Rxd8,Rxc5,Bc6,Rxa5,Kf7,Rc5,Rd2,Bc3,Rd3,Bb4,e3,f3,Rd1+,Kh2,e2,Re5,Bb5,Re7+,Kf6,Rxb7,Bc4,Re7,Rd8,Re3,Ra8,Kg3,h5,Kf2,Kf5,g4+,hxg4,hxg4+,Kf6,Be1,Ra6,Rc3,Bb5,Rc5,Bd3,Rc3,Bb5,Rb3,Bc4,Rb4,Bd3,a4,Ke5,f4+,Kd5,Ke3,Bc4,a5,Rxa5', 'Rxc4,Ra3+,Rc3', 'https://lichess.org/training/D7ZBq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d81qF', 'Blitz', 'Pitrosian94', 1978, 'HollowK', 1964, 'c4,d5,cxd5,e6,dxe6,Bxe6,Nc3,Nf6,Nf3,c5,g3,Nc6,Bg2,h5,O-O,Bd6,d4,cxd4,Nb5,h4,Nbxd4,hxg3,hxg3,Qc7,Nxe6,fxe6,Be3,O-O-O,Rc1,Bxg3,Qb3,Bh2+,Kh1,Bf4+,Kg1,Bxe3,Qxe6+,Kb8,Qxe3,Ng4,Qb3,Nh2,Rxc6', 'Nxf3+,Qxf3,Qh2#', 'https://lichess.org/training/d81qF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d84BE', 'Blitz', 'Zutano', 2428, 'elpapitulua', 2284, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,Bg7,g3,Ne7,Nxe7,Qxe7,Qh5,Bb7,Bg2,d5,O-O,b4,Nb1,d4,a3,O-O,Nd2,Rfc8,Rfc1,a5,Bh3,Rc5,Bf5,h6,axb4,axb4,Rxa8+,Bxa8,b3,Rc3,Nc4,Qc7,Ra1,Bb7,Qd1,Bf8,h4,Qc5,Kg2,d3,cxd3,Qd4,Qg4+,Kh8,Qh5,Kg7,Rd1,Rxd3,Rxd3,Qxd3,Qg4+,Kh8,Qf3,Qc3,Qe3,Qxe3,Nxe3,Bc5,Nc4,Ba6,Nd2,Bd3,f4,Bd4,Kf3,Bc3,Nc4', 'Bxc4,bxc4,b3,Ke2,b2', 'https://lichess.org/training/d84BE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d85B6', 'Rapid', 'SamuelCruz', 1751, 'Yobi38', 1725, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bg4,Be2,Bb4,Bd2,O-O,h3,Bd7,a3,Ba5,Na2,Nc6,Bxa5,Nxa5,Qd2,Nc4,Bxc4,dxc4,Nc3,Re8+,Kf1,Bc6,Re1,Bxf3,gxf3,Nd5', 'Rxe8+,Qxe8,Nxd5', 'https://lichess.org/training/d85B6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d861k', 'Blitz', 'lexavoksal', 1845, 'GeorgCostanza', 1839, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be3,e5,Nxc6,bxc6,Bc4,Be7,O-O,O-O,Kh1,Be6,Bxe6,fxe6,f4,exf4,Bxf4,e5,Be3,Qd7,Qd3,Ng4,h3,Nxe3,Qxe3,Rxf1+,Rxf1,Rf8,Rxf8+,Bxf8,b3,Be7,Na4,h6,c4,Bg5,Qe2,Qf7,c5,d5,exd5,Qxd5,b4,Bf4,Nc3,Qd4,Ne4', 'Qa1+,Qf1,Qxf1#', 'https://lichess.org/training/d861k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D87e9', 'Blitz', 'JASAMREY', 1664, 'Niciola', 1619, 'e4,c5,c3,d6,d4,Nf6,d5,e6,dxe6,Bxe6,Nf3,Be7,Bb5+,Nc6,Bxc6+,bxc6,e5,dxe5,Qxd8+,Rxd8,Nxe5,Bd6,Nxc6,Rd7,O-O,O-O,Bg5,Ng4,g3,Rc8,Na5,c4,b4,cxb3,axb3,f6,Be3,Nxe3,fxe3,Bc5,Re1,Bb6,b4,Bd5,c4,Bxc4,Nxc4,Rxc4,Na3,Rxb4,Nc2,Rc4,Ra2,Rd2,Nb4,Bxe3+,Rxe3', 'Rc1+,Re1,Rxe1#', 'https://lichess.org/training/D87e9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d87uo', 'Rapid', 'hacenndz39', 1666, 'Tony1970', 1676, 'd4,a5,c4,d5,Nf3,e6,Nc3,Nf6,e3,Nc6,cxd5,exd5,Bb5,Bb4,Ne5,Bxc3+,bxc3,Bd7,Nxc6,bxc6,Bd3,Bg4,f3,Bh5,O-O,a4,Ba3,Nd7,Be2,c5,dxc5,c6,f4,Bxe2,Qxe2,O-O,Rf3,Nf6,Rd1,Ne4,Bb4,a3,c4,Nf6,cxd5,cxd5,Qd3,Ra4,Bc3,Rc4,Bxf6,gxf6,Qxd5,Qxd5,Rxd5,Rc1+,Kf2,Rc2+,Kg3,Rxa2,c6,Rc8,Rc5,Rb2,e4,a2,Ra3', 'Rb3+,Rxb3,a1=Q', 'https://lichess.org/training/d87uo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d89dk', 'Classical', 'aethernaut', 1943, 'Amankeldi1967', 1964, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,Nxe5,Nxe5,d4,Bd6,dxe5,Bxe5,Nc3,O-O,Bg5,h6,Bh4,g5,Bg3,Bxg3,hxg3,d6,Qe2,Ng4,Rad1,Qf6,f3,Ne5,f4,Ng4,fxg5,Qxg5,Nd5,c6,Nf4,Bd7,Rxd6', 'Qc5+,Kh1,Qxd6', 'https://lichess.org/training/d89dk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8AxO', 'Classical', 'RafaFS', 1692, 'roberto_pez', 1668, 'e4,b6,d4,Bb7,Nc3,e6,Bf4,Bb4,d5,exd5,exd5,Nf6,Qd4,Qe7+,Ne2,Bxc3+,Qxc3,O-O,Qxc7,Bxd5,Bd6,Na6,Bxe7,Nxc7,Bxf8,Rxf8,Nd4,Re8+,Be2,Bc4,b3,Bxe2,Nxe2,Ncd5,Rd1,Nf4,Rd2,Nxg2+,Kf1,Nh4,Nf4,Nf3,Rd3', 'Re1+,Kg2,Nh4+,Kh3,Rxh1', 'https://lichess.org/training/d8AxO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8Csr', 'Blitz', 'rahul_0425', 1633, 'isaiahtrujillo6', 1700, 'd4,d5,c4,e6,a3,Nf6,Nc3,Bd7,Bg5,Be7,cxd5,exd5,Bxf6,Bxf6,Nxd5,Nc6,Nxf6+,gxf6,e3,Qe7,h3,O-O-O,Nf3,Rhg8,Be2,Bf5,b4,Qe6,Nh4,Be4,Bf3,Bd5,Bxd5,Qxd5,O-O,Rg5,Nf3,Rg6,Re1,Rdg8,g3,h5,h4,Ne7,e4,Qd6,Rc1,Rxg3+,fxg3', 'Qxg3+,Kf1,Qg2#', 'https://lichess.org/training/d8Csr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8DGF', 'Blitz', 'CM HCMB', 2361, 'Aarsh225', 2182, 'd4,Nf6,Nf3,e6,g3,b6,Bg2,Bb7,O-O,c5,Nc3,Be7,dxc5,Bxc5,Bf4,O-O,Nb5,d5,Nc7,Nh5,Nxa8,Nxf4,gxf4,Nd7,Nxb6,Bxb6,e3,Qf6,c3,e5,fxe5,Nxe5,Nxe5,Qxe5,Qg4,h5,Qg3,Qe6,c4,Rd8,Rfd1,Qf6,cxd5,Qxb2,d6,Bxg2,Qxg2,Qf6,d7,Rxd7,Qa8+,Kh7,Qe4+,g6,Rxd7,Qxa1+,Kg2,Qf6,Qf4', 'Qc6+,Qf3,Qxd7', 'https://lichess.org/training/d8DGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8g4v', 'Rapid', 'Psaha1108', 1666, 'Nalvash', 1649, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,Qf3,Nf6,d3,Bg4,Qg3,Qb6,Bg5,Bh5,Bxf6,gxf6,Nc3,O-O-O', 'Qh3+,e6,Qxh5', 'https://lichess.org/training/d8g4v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8GvD', 'Rapid', 'thelz', 1622, 'CalvinFst55', 1630, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,d4,exd4,Qxd4,Nf6,O-O,Be7,Bg5,O-O,Nc3,Nc6,Qd2,h6,Bh4,d6,Rae1,Re8,Bxf6,Bxf6,Nd5,Ne5,Nxf6+,Qxf6,Nxe5,Rxe5,Rxe5,Qxe5', 'Re1,Qf6,Re8+', 'https://lichess.org/training/d8GvD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8HL9', 'Rapid', 'sarman79', 1784, 'kris3ds', 1859, 'd4,e6,c4,d5,Nc3,b6,e4,Nf6,Bg5,Be7,exd5,exd5,Bxf6,Bxf6,Nxd5,O-O,Nf3,Bg4,Be2,Bxf3,Bxf3,Re8+,Be2,b5,O-O,bxc4,Bxc4,Bg5,Qh5,g6,Qg4,Nc6,Rae1,Rxe1,Rxe1,Na5,Ne3,Bxe3,Bxf7+,Kxf7,Rxe3,Nc4', 'Qe6+,Kg7,Qxc4', 'https://lichess.org/training/d8HL9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8HLk', 'Rapid', 'naderr10', 1755, 'scoubidou', 1789, 'd4,g6,c4,c6,Nc3,Bg7,Nf3,d6,e4,Bg4,h3,Bxf3,Qxf3,Qb6,Ne2,Qb4+,Qc3,Qxc3+,bxc3,c5,Rb1,b6,g4,Nc6,d5,Ne5,Nf4,g5,Ng2,h6,f4,gxf4,Bxf4,Nf3+,Kf2,Ne5,Bxe5,Bxe5,Rb3,Nf6,Kf3,Rg8,Nf4,Kd7,Rg1,Rg7,h4,Rag8,g5,hxg5,Bh3+,Kc7,hxg5,Rxg5,Rxg5,Rxg5,a4,Nh5,Nxh5,Rxh5,Bg4,Rh1,a5,Rc1,axb6+,axb6,Ra3,Rxc3+,Rxc3,Bxc3,Ke3,Kd8,Kd3,Bb4,Kc2,Ke8,Kb3,Kf8,Ka4,Kg7,Kb5,Ba5,Kc6,Kf6,Kd7,Bc3,Kc6,Ba5,Kd7,Ke5,Bf5,Kd4,Kxe7,Kxc4,Kxd6,Kd4,Kc6,b5,Kxb5,Bc7,Kc6,Be5,d6,Bxd6', 'Kxd6,c4,e5', 'https://lichess.org/training/D8HLk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8jmy', 'Classical', 'bash5214', 1752, 'SirSilver', 1803, 'e4,c5,c4,Nc6,d3,g6,Nc3,Nd4,Nf3,Bg7,Be3,d6,Bxd4,Bxd4,Nxd4,cxd4,Nd5,e6,Nf4,Qg5,Nh3,Qa5+,Qd2,Qxd2+,Kxd2,Bd7,Nf4,b5,b3,bxc4,dxc4,Nf6,f3,e5,Nd5,Nxd5,cxd5,Rc8,Rc1,O-O,Ba6,Rc5,Rxc5,dxc5,Rc1,Bc8,Bxc8,Rxc8,Kd3,f5,b4,fxe4+,Kxe4,c4,Kxe5', 'd3,Kd4,d2,Rh1,c3', 'https://lichess.org/training/D8jmy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8JZI', 'Blitz', 'kikirin', 1855, 'atollo-k', 1906, 'd4,d5,c4,e6,Nf3,Nf6,g3,c6,cxd5,exd5,Bg2,Bd6,Nc3,O-O,O-O,Nbd7,Re1,Re8,Qc2,Nf8,e4,dxe4,Nxe4,Nxe4,Rxe4,Bd7,Rxe8,Qxe8,b3,Bg4,Bb2,Qd7,Qc3,Re8,d5,f6,dxc6,bxc6,Rd1,Qc7,Qd4,Bxf3,Bxf3,Be5,Qc4+,Kh8,Bxe5,Qxe5,Qxc6,Ng6,Rd7,Qg5,Rd5', 'Re1+,Kg2,Nf4#', 'https://lichess.org/training/D8JZI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8lLv', 'Blitz', 'StranacJug', 2315, 'FM WitteVanHaemstede', 2380, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Nde2,Nf6,g3,O-O,Bg2,d6,O-O,Bd7,Nd5,Nxd5,exd5,Ne5,c3,Bb5,b3,a5,Be3,a4,c4,Bd7,Bd4,Qc8,f4,Ng4,h3,Nf6,Kh2,b5,Rc1,axb3,axb3,Ra2,cxb5,Qb7,Nc3,Rxg2+,Kxg2,Nxd5,Kh2,Nxc3,Rxc3,Qxb5,Bxg7,Kxg7,Re1,Be6,Rc7,Ra8,Re2,Bxb3,Qd4+,e5,Qe3,Bc4,Rc2,Bd3,Rd2,e4,Qd4+,Kg8,Qf6,Qb3,f5,Ra2', 'Rc8#', 'https://lichess.org/training/D8lLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8NAa', 'Blitz', 'xuanet', 2214, 'vbg1', 2168, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Bd3,c6,Nge2,Bg4,f3,Bh5,Bf4,Qb4,Qd2,Bg6,O-O,Nbd7,a3,Qa5,b4,Qb6,Na4,Qd8,Nc5,Bxd3,Qxd3,Qc8,Ng3,e6,Nge4,Bxc5,dxc5,Nxe4,fxe4,O-O,Bd6,Rd8,e5,b6,Qf3,f6,Qg4,Nxe5,Qg3,Ng6,h4,e5,h5,Nf4,h6,g6,Qb3+,Kh8,Be7,Qf5,Bxd8,Rxd8,Qf7', 'Ne2+,Kh1,Qh5#', 'https://lichess.org/training/D8NAa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8NfZ', 'Blitz', 'igla1984', 1621, 'fyilmaz', 1612, 'e3,e5,c4,Nc6,Nc3,Nf6,a3,a6,b4,Be7,Bb2,O-O,Nf3,d6,Be2,Bg4,O-O,h6,d4,exd4,Nxd4,Bxe2,Qxe2,Nxd4,exd4,Re8,Qf3,Nh7,Qxb7,Bf6,Nd5,Re2,Rab1,Rd2,Nxf6+,Nxf6,d5,Ne4,f3,Ng5,Rfe1,Nh3+,Kh1,Nf4,Re4,Nxg2,Rg4,Ne3,Rxg7+,Kf8,Rbg1', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/d8NfZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8OJG', 'Rapid', 'razza12', 1783, 'Omaralqaisi', 1780, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Bd7,Nc3,Be7,Bc4,Bf6,Qd5,Be6,Qxb7,Bxc4,Qxa8,Ne7,Be3,Bxc3+,bxc3,O-O,Qxa7,Nbc6,Qa4,d5,exd5,Qxd5,Rd1,Qe6,Ng5,Qg4,f3', 'Qxg2,Qxc4,Qxh1+', 'https://lichess.org/training/d8OJG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8OlZ', 'Rapid', 'drbutch', 1873, 'Delpire', 1785, 'e4,e6,c4,Nf6,Nc3,Bb4,d3,c6,Bd2,O-O,a3,Ba5,b4,Bc7,Be2,d5,cxd5,cxd5,Nf3,dxe4,dxe4,Nbd7,O-O,h6,Rc1,Nb6,e5,Nfd5,Nxd5,Nxd5,Re1,b6,Bc4,Bb7,Nd4,Rc8,Nb5,a6,Nxc7,Rxc7,Qg4,g5,h4,f6,Bxd5,Bxd5,exf6,Rxc1,Rxc1,Qxf6,Rc7', 'Qxf2+,Kh2,Qxd2', 'https://lichess.org/training/D8OlZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8r5j', 'Classical', 'NOnameONLYgame', 1659, 'sksharma13882', 1675, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Bg4,Nbd2,Bb4,c3,Ba5,b4,Bb6,h3,Nxc3,Qc2,Nd4,Nxd4,Bxd4,hxg4', 'Ne2+,Kh1,Qh4#', 'https://lichess.org/training/d8r5j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8t41', 'Rapid', 'boff', 2023, 'Belbatosh', 1712, 'e4,c5,Nf3,Nc6,Bb5,Qc7,O-O,e6,c3,a6,Bxc6,Qxc6,d4,cxd4,cxd4,Qxe4,Nc3,Qc6,Ne5,Qc7,Bf4,d6,Qa4+,b5', 'Nxb5,axb5,Qxa8,Qb7,Qxb7', 'https://lichess.org/training/d8t41');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8tF1', 'Rapid', 'kyle08', 1841, 'bachabagr', 1891, 'e4,c6,Nf3,d5,Bd3,Bg4,h3,Bh5,Nc3,Nf6,e5,Nfd7,O-O,Bxf3,Qxf3,Nxe5,Qh5,Nbd7,Re1,Nxd3,cxd3,e6,Ne2,Bd6,Nd4,O-O,b3,f5,Bb2,Ne5,Ne2,Nxd3,Reb1,Bc5,Bd4,Bd6,Qf3,Ne5,Bxe5,Bxe5,Nc3,Qg5,Re1,Qxd2,Rxe5,Rae8,Qe3', 'Qxe3,Rxe3,d4', 'https://lichess.org/training/D8tF1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8UfB', 'Rapid', 'fingoldo', 1699, 'enengin', 1696, 'd4,d5,Nc3,Bf5,Bf4,a6,Qd2,h6,Nf3,Nc6,e3,Nf6,Nh4,Bh7,Bd3,Ne4,Nxe4,dxe4,Bc4,g5,d5,gxf4,dxc6,Qxd2+,Kxd2,O-O-O+,Ke2,f3+,gxf3,exf3+,Nxf3,Bxc2,cxb7+,Kxb7,Bxf7,Bd3+,Ke1,Bg7,Nd4,Bxd4,exd4,Rxd4,Rd1,Rf8,Bc4', 'Re4+,Kd2,Bxc4', 'https://lichess.org/training/D8UfB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8UUm', 'Blitz', 'FM MrBadbeat', 2349, 'bigboy1124', 2380, 'd4,e6,c4,d5,Nf3,Nf6,g3,c5,cxd5,exd5,Bg2,Nc6,O-O,Be7,dxc5,Bxc5,a3,a6,b4,Be7,Bb2,O-O,Nc3,Bf5,Rc1,Rc8,Na4,Ne4,Nd4,Bd7,Nxc6,Bxc6,Nc3,Nxc3,Bxc3,Qd7,Qd2,Rfd8,Bd4,Bb5,Qb2,Bf8,Bf3,Qe6,Rxc8,Rxc8,Rd1,Bc4,Kg2,Re8,e3,g5,h3,f5,Bc3,g4,hxg4,fxg4,Be2,Qe4+,Kg1,Re6,Bxc4,dxc4,Rd4,Qf3,Rf4,Qd1+,Kg2,Rh6', 'Rxf8+,Kxf8,Bg7+,Kf7,Bxh6', 'https://lichess.org/training/D8UUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8UZv', 'Rapid', 'Pimblus', 1699, 'starbax', 1699, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,b6,e4,Bb7,e5,Ne4,Bxe7,Qxe7,Bd3,Qb4,Qc2,dxc4', 'Bxe4,Bxe4,Qxe4', 'https://lichess.org/training/d8UZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8w0n', 'Rapid', 'mahbudi1', 2128, 'Bucephalus23', 1996, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Nh4,e6,Nxg6,hxg6,c3,Ngf6,Bd3,Be7,Qf3,Qb6,O-O,Bd6,h3,Qc7,Ne4,Nxe4,Bxe4,Nf6,Bd3,Rh5,c4,O-O-O,c5,Be7,Bf4,Qd7,Be5,Rdh8,b4,g5,Qe2,g4,Kh2,Qd5,Bc4', 'Rxh3+,gxh3,Rxh3+,Kg1,Rh1#', 'https://lichess.org/training/D8w0n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8WzC', 'Rapid', 'stephenlu', 1848, 'toroHR', 1785, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,Bd6,Bg3,Ne4,Nbd2,Nc6,c3,Bd7,Bd3,f5,Bxd6,Nxd6,Ne5,Nxe5,dxe5,Ne4,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1+', 'https://lichess.org/training/D8WzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8xUe', 'Classical', 'Imri', 1897, 'secaje06', 1785, 'd4,d6,Bf4,Nf6,e3,Nc6,Nf3,g6,c3,Bg7,Bd3,O-O,Nbd2,Re8,Qc2,e5,dxe5,dxe5,Bg5,a6,Ne4,b5,O-O-O,Qe7,a3,Rb8,h4,h6,Nxf6+,Bxf6,Bxh6', 'e4,Bxe4,Qxe4,Qxe4,Rxe4', 'https://lichess.org/training/D8xUe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d8yVE', 'Rapid', 'ProfeHolan', 1930, 'Kim_Bog_Un', 1886, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,a6,Bxc6+,bxc6,dxe5,d5,O-O,Bg4,exd5,cxd5,h3,Bh5,Qd3,Bc5,Nc3,c6,Nd4,Qc7,Bf4,Ne7,Nf5,Bg6,Nxg7+,Kf8,Qf3,Kxg7,e6,Qb6,Be5+,Kh6,Bxh8,Rxh8,exf7,Rf8,Qf4+,Kg7,Rae1,Rxf7,Qe5+,Kf8,Qh8+,Ng8,Re2,Bd4,Re8+,Kxe8,Qxg8+,Ke7,Re1+,Be4', 'Nxe4,dxe4,Rxe4+', 'https://lichess.org/training/d8yVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D8Zvm', 'Blitz', 'ctupaz_chessph', 1987, 'ibizarey', 1608, 'e4,g6,c4,Bg7,Ne2,e6,g3,d6,Bg2,Bd7,O-O,Bc6,d3,f5,Nbc3,fxe4,dxe4,Nf6,h3,e5,Be3,O-O,Qd2,Nbd7,Bg5,Qe7,Nd5,Bxd5,cxd5,c6,Nc3,cxd5,Nxd5,Qf7,f4,h6,Bxf6,Bxf6,fxe5,dxe5,Qxh6,Qh7,Qd2,Rf7,Rac1,Raf8,Rc7,Be7,Rxd7,Bc5+,Kh2,Rxd7,Qa5,b6,Qb5,Rxf1,Bxf1,Qf7,Bg2,Qf2,h4,Rf7,Qe8+,Kg7,Qxe5+,Kf8', 'Qh8#', 'https://lichess.org/training/D8Zvm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d91Tf', 'Rapid', 'Juanmerodio', 1828, 'blackhorse', 1727, 'e4,e5,Nf3,d6,Bc4,Bg4,O-O,Nf6,d3,Be7,h3,Bd7,Nc3,O-O,Nd5,Nxd5,Bxd5,Bc6,Bb3,Kh8,Be3,f5,c3,f4,Bd2,Nd7,d4,Nf6,d5,Bd7,Kh2,Qc8,Ng5,Ne8,Qh5,Bxg5,Qxg5,f3,g4,Nf6,Bc2,Bb5,Rg1,Be2,Qh4,Qe8,g5,Nd7,g6,Nf6,Bg5,Qxg6,Bf4,Qf7,Bg5,Nd7,Rg4,Nc5,Rag1,c6,Be3,Rg8,Bxc5,dxc5', 'Qxh7+,Kxh7,Rh4+,Qh5,Rxh5#', 'https://lichess.org/training/d91Tf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D93JO', 'Classical', 'erol-3334', 1717, 'Dork2', 1754, 'e4,c5,Nf3,d6,c3,e6,d4,cxd4,cxd4,Nf6,Nc3,Be7,Bb5+,Nc6,Qa4,Bd7,O-O,a6,Bd3,b5,Qc2,b4,Ne2,e5,dxe5,Nxe5,Nxe5,dxe5,f4,Qb6+,Kh1,Ng4,Ng3,Rc8,Qe2,O-O,f5,Nf6,Be3,Bc5,Bg5,Bd4,Bxf6,Qxf6,Bxa6,Ra8,Bb7,Rab8,Bd5,Rfc8,Rab1,Bb5,Qd2,Bxf1,Rxf1,Qb6,b3,Bc3,Qg5,Qa6,Rd1,Bd4,Nh5,Qh6,Qg4,Rb6,f6,Rcb8,Nxg7,Rxf6', 'Nf5+,Qg6,Ne7+,Kg7,Nxg6', 'https://lichess.org/training/D93JO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D947t', 'Blitz', 'RidderRosenkaal', 1651, 'foxy85', 1648, 'd4,d5,Bf4,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Bd6,Bg3,Nc6,Nf3,Nf6,c3,O-O,Nbd2,Bxg3,hxg3,Ne7,g4,Ng6,g5,Nd7,Ne5,Ndxe5,dxe5,Qxg5,O-O-O,Qxe5,Qe2,h6,f4,Qf6,g4,Qe7,g5,hxg5,Qh2,f6,Qh7+,Kf7,fxg5,Ke8,Qxg6+,Kd7,c4,fxg5,cxd5,exd5,Ne4,c6,Nxg5,Qxe3+,Rd2,Qe7,Rh7,Qe1+,Rd1,Qe3+,Rd2,Rf1+,Kc2,Qc5+,Kb3,Qc4+,Ka3,Qc5+,b4,Qc3+,Ka4', 'b5+,Ka5,Qa3#', 'https://lichess.org/training/D947t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D94HO', 'Rapid', 'TheGreatest2', 1991, 'ordep100', 1904, 'd4,Nf6,Bf4,e6,e3,d5,c3,c5,Nd2,Nc6,Bd3,a6,a4,Be7,h3,O-O,Ngf3,c4,Be2,Bd6,Ne5,Nxe5', 'dxe5,Bb8,exf6', 'https://lichess.org/training/D94HO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D95AD', 'Classical', 'ghorbato', 2040, 'abdelhamid63', 2014, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,O-O,Nf6,Nxd4,Be7,Re1,O-O,Nc3,Nxd4,Qxd4,Be6,Nd5,Nxd5,exd5,Bf6,Qf4,Bd7,Bd3,Re8,Rxe8+,Qxe8,Bd2,Bxb2,Re1,Be5,Qe4,f5,Qh4,Qg6,Qe7,Qf7,Qh4,Re8,Qc4,c6,dxc6,bxc6,Qa6,Bd4,Rxe8+,Qxe8', 'Qc4+,Be6,Qxd4', 'https://lichess.org/training/D95AD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d9aVy', 'Blitz', 'LM Killerkaz', 2319, 'Tysonchess2', 2212, 'd4,e6,c4,b6,Nf3,Bb7,g3,Nf6,Bg2,Be7,O-O,O-O,d5,a5,Nc3,Na6,Nd4,Nc5,a3,a4,dxe6,fxe6,Bxb7,Nxb7,Nxa4,Qe8,Nb5,Bd8,Bf4,e5,Bg5,Kh8,b3,Ne4,Be3,Qe7,Qd5,Rxa4,bxa4,Nbc5,Bxc5,Nxc5,Nc3,c6,Qd1,d6,Qc2,Qe6,Ne4,Qg6,f3,Ne6,Qd1,Be7,Rb1,Nd4,Rxb6,h5,Kh1,Nf5,Rb7,Ne3,Qc1,Nxf1,Rxe7,h4,g4,Ng3+,hxg3,hxg3,Nxg3,Rb8,Kg2,Rb1,Qe3,Qf6,Nh5,Qxe7,Qe4,Rb2,Kf2,Qh4+,Ke3,Qe1,Qd3,Qg1+,Ke4,Rb1,Kf5,Qa7,Qxd6,Qf7+,Kxe5,Qe8+,Kf4,Re1,e4,Rf1,Qe5', 'Rxf3+,Kxf3,Qxe5', 'https://lichess.org/training/d9aVy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D9ck4', 'Classical', 'messimessi', 1650, 'Katris', 1682, 'c4,c5,g3,Nf6,Bg2,d5,cxd5,Nxd5,Nc3,Nc7,Nf3,Nc6,O-O,e5,d3,Be7,Be3,O-O,Rc1,f6,Qb3+,Kh8,Nh4,Qd7,Qa4,Qe6,Bxc6,bxc6,Qa5,Qd7,Bxc5,Bxc5,Qxc5,Nd5,a3,Rd8,Na2,Bb7,Nb4,Nxb4,Qxb4,Rab8,Nf3,Ba8,Qc3,Rbc8,Rfd1,c5,Nd2,h6,Nb3,Qc6,f3,e4,dxe4,Rxd1+,Rxd1,Qb5,Qd3,c4,Nd4,Qxb2,Qd2,Qxa3,Rc1,c3,Qc2,Qb2', 'Qxb2,cxb2,Rxc8+,Kh7,Rb8', 'https://lichess.org/training/D9ck4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D9dAk', 'Blitz', 'Sarthak_ostwal', 1585, 'fannum', 1910, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Ne7,Qg4+,Kd6,Ne4+,Kc6,Qf3,Be6,Qc3,Kd7,Bxd5,Bxd5,Nc5+,Kc8', 'Qh3+,Kb8,Nd7+,Qxd7,Qxd7', 'https://lichess.org/training/D9dAk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D9HsI', 'Rapid', 'FlyingRiverCrab', 1924, 'yani_ahmad07', 1839, 'd4,e6,c4,d5,Nc3,c5,Bf4,Nc6,e3,Nf6,Bd3,Be7,Nge2,O-O,O-O,a6,a3,Re8,Qc2,Kh8,Ng3,cxd4,exd4,Nxd4,Qb1,dxc4,Bxc4,b5,Be2,Nb3,Ra2,Qb6,Be3,Bc5,Bxc5,Qxc5,Qc2,Nd4,b4,Qc6,Qd2,Bb7,f3,Rad8,Qe3,Ng4,Qe4,f5', 'Qxc6,Bxc6,fxg4', 'https://lichess.org/training/D9HsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d9HyC', 'Rapid', 'bolido13', 1632, 'ceomoses', 1804, 'e4,Nf6,e5,Nd5,Nf3,Nb6,d4,d6,exd6,exd6,Bb5+,c6,Bd3,Bg4,O-O,Be7,h3,Bh5,Qe1,Bxf3,gxf3,O-O,Nc3,d5,f4,f5,Qe6+,Kh8,Bxf5', 'Rf6,Qe3,Rxf5', 'https://lichess.org/training/d9HyC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D9Nt2', 'Rapid', 'SEROMAT', 2043, 'sasakh005', 1964, 'e4,e6,d4,d5,exd5,exd5,Be2,Nf6,h3,Bf5,Nf3,Nc6,c3,Bd6,Be3,O-O,Nbd2,Re8,g4,Be6,h4,Ne4,Nxe4,dxe4,Ng5,Bd5,h5,h6,Nh3,Qf6,g5,hxg5,Bxg5,Qe6,Be3,f5,Ng5,Qf6,Qd2,Rf8,h6,f4,hxg7,fxe3,gxf8=Q+,Rxf8,fxe3,Qxg5,O-O-O,Kf7,Bh5+,Ke7,Rdg1,Qf6,Rg6,Qf2,Rg7+,Kd8,Qxf2,Rxf2,Bg6,Ne7,Rh8+,Kd7,Be8+,Ke6,Rh6+,Rf6,Bf7+,Kf5', 'Rh5#', 'https://lichess.org/training/D9Nt2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D9PEe', 'Classical', 'Alex5py', 1712, 'makalo', 1687, 'd4,c5,c3,cxd4,cxd4,d5,Bf4,Nc6,Nc3,a6,Qa4,Bf5,e3,Nf6,Nf3,Bd7,Qd1,Qa5,a3,Ne4,Qc2,Nxc3,bxc3,Rc8,Bd3,g6,Qb2,b5,O-O,Bg7,h3,O-O,h4,f6,Qc2,e5,Bh2,e4,Bxe4,dxe4,Qxe4,Bf5,Qd5+,Be6,Qxe6+,Kh8,Qb3,Ne7,a4,Rxc3,Qe6,Re8,Qf7,Qd8,axb5,Rf8,Qe6,axb5,Bd6,Re8,Ra7', 'Nc6,Qxe8+,Qxe8', 'https://lichess.org/training/D9PEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d9q7L', 'Blitz', 'IM Machinegunusa', 2544, 'IM KamranShirazi', 2472, 'e4,d6,Nf3,Nf6,Nc3,c5,d4,cxd4,Nxd4,g6,f4,Bg7,e5,dxe5,fxe5,Ng4,Bb5+,Nc6,Nxc6,Qxd1+,Nxd1,a6,Nxe7+,axb5,Nxc8,Rxc8,c3,Bxe5,h3,Bg3+,Ke2,Ne5,Bh6,f5,Ne3,Nf7,Bg7,Rg8,Bd4,Be5,Rad1,Ke7,Nd5+,Ke6,Bxe5,Nxe5,Rhe1,Rgd8,Nc7+,Kf7,Nxb5,Nc4,b3,Rxd1,Rxd1,Re8+,Kf2,Ne3,Rd7+,Kg8,Nd6,Nd1+,Kf1,Re6,c4,Ne3+,Kg1,b6,Nc8,Nd1,Rb7,Re1+,Kh2,f4,Ne7+,Kf8,Nd5,g5,h4,Nf2,g4,Nxg4+,Kh3,Nf2+,Kg2,Re2,hxg5,Rxa2,Kf3,Nh3,Nxf4,Nxg5+,Kg4,Ne4,Ne6+,Ke8,Kf4,Nd2,Rxb6,Rb2,Rd6,Nxb3,Rb6,Rf2+,Ke5,Rh2,Kd6,Rd2+,Ke5,Nc1,Rb8+,Kd7', 'Rd8+,Ke7,Rxd2', 'https://lichess.org/training/d9q7L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D9RMb', 'Rapid', 'LDSawesome', 2067, 'Cooling100', 1933, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a3,e6,Bg5,Be7,Bc4,O-O,h4,b5,Bb3,Bb7,Qe2,Nc6,Nf3,Nd7,Rd1,Nde5,Qe3,Nxf3+,Qxf3,Ne5,Qh5,Rc8,Ne2,Bxe4,Nf4,d5', 'Bxe7,Qxe7,Qxe5', 'https://lichess.org/training/D9RMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D9XGO', 'Blitz', 'FM Iniciativa', 2443, 'Pritish71', 1991, 'Nc3,c5,e4,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bg5,e6,Qd3,Be7,O-O-O,O-O,h4,Ne5,Qg3,Nh5,Qe3,Ng4,Qe1,Bxg5+,hxg5,Qxg5+,Kb1,Nhf6,Bc4,Qc5,Bb3,e5,Na4,Qc7,Nb5,Qc6,Nxd6,Rd8,Nxf7,Rxd1+,Qxd1,Be6,Nd8,Rxd8,Qxd8+,Kf7,Bxe6+,Kxe6,Nc3,Nxf2,Rf1,N2xe4,Nxe4,Qxe4,Qd2,Qc4,Re1,Ne4,Qe2,Nc3+,bxc3,Qxc3,Rd1,Qb4+,Kc1,Qa3+,Kd2,Qb4+,Ke3', 'Qf4+,Kd3,Qd4#', 'https://lichess.org/training/D9XGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D9XOq', 'Classical', 'Raikin', 1760, 'PavelBY', 1708, 'e4,c5,Bc4,g6,Nf3,Nf6,Ng5,d5,exd5,Nxd5,Qf3,Nb4,Qxf7+,Kd7,Bb5+,N8c6,Ne6,Qe8,Nxc5+,Kd8,Ne6+', 'Bxe6,Qxe6,Nxc2+,Kd1,Nxa1', 'https://lichess.org/training/D9XOq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d9xOT', 'Blitz', 'piplup1636', 2075, 'viktorl44', 2146, 'e4,e6,d3,d5,Nd2,Nf6,g3,c5,Bg2,Nc6,Ngf3,Be7,O-O,O-O,e5,Nd7,Re1,Rb8,Nf1,b5,h4,Qc7,Bf4,a5,Ne3,Ba6,h5,Rfc8,Ng4,Nd4,Nf6+,Kh8,Nxd7,Qxd7,Ng5,Kg8,c3,Nc6,Qg4,Bb7,h6,g6,Nf3,b4,Bg5,bxc3,bxc3,Ba6,Rad1,Rb2,Bxe7,Qxe7,Qf4,Rxa2,Ng5,Rb8,Bxd5,exd5,e6,f6,Nf7,Rbb2,Kg2,Re2,Qg4,Rxe1,Rxe1,f5,Qf4,Bxd3,Ne5,Be4+,Kh2,Qxe6,Nxc6,Qxc6,Qb8+,Kf7,Qh8,Rxf2+,Kg1,Rg2+,Kf1,Qb6,Qxh7+,Kf6,Qg7+,Kg5,h7,Qb2,Qe7+,Kg4', 'Qh4+,Kf3,Qf4#', 'https://lichess.org/training/d9xOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('d9XY3', 'Rapid', 'Enakentiy', 2176, 'trandism', 2166, 'd4,Nf6,Bf4,g6,Nc3,d5,e3,Bg7,h4,h6,Nf3,Bg4,Qd2,a5,Ne5,Be6,Be2,Nbd7,O-O-O,Ne4,Nxe4,dxe4,g4,a4,Kb1,Nxe5,Bxe5,Bxe5,dxe5,O-O,Qb4,Qe8,Qxe4,c6,Bf3,a3,b3,Rd8,Rxd8,Qxd8,Rd1,Qa5,h5,Bd5,Rxd5,Qxd5,Qxd5,cxd5,Bxd5,Rd8,c4,e6,Bxb7,Rd1+,Kc2,Ra1,c5', 'Rxa2+,Kb1,Rb2+,Ka1,Rxb3', 'https://lichess.org/training/d9XY3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D9zV2', 'Rapid', 'lazarus747', 1701, 'Harshmin', 1710, 'c3,c5,Qa4,Nf6,d3,Nc6,Be3,d6,Nf3,Bd7,Nbd2,Nd4,Qd1,Nxf3+,Nxf3,e5,g3,Be7,Bg2,O-O,Kf1,Ng4,Bd2,f5,h3,Nf6,Bg5,e4,Bxf6,Bxf6,Qb3+,Kh8,dxe4,fxe4,Nd2,b6,Nxe4,Be5,h4,Rb8,Qc2,Qe7,Ng5,Bf5,e4,Bg6,Kg1,Rf6,f4,Bxf4,gxf4,Rxf4,Rf1,Rg4,Qb3,Rf8,Rxf8+,Qxf8,Qd1,Qf4,Qd5,Qc1+,Kf2,Qxb2+,Ke3,Qxc3+,Qd3,Rg3+,Bf3,Rxf3+', 'Nxf3,Qxd3+,Kxd3', 'https://lichess.org/training/D9zV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('D9ZX4', 'Rapid', 'Rugaru327', 1774, 'Luuuntik', 1746, 'e4,e5,Nf3,Nc6,d3,h6,Be2,Nf6,Nc3,Bc5,h3,d6,O-O,Nh7,Nd5,f5,exf5,Bxf5,Be3,Bb6,Nh2,O-O,Nxb6,axb6,f3,Be6,a3,Nf6,Bf2,Nd5,c4,Nf4,Ng4,h5,Ne3,Nd4,Re1,Ndxe2+,Rxe2,Nxe2+,Qxe2,Qg5,Kh1,Rf7,Qe1,Qg6,Rd1,Raf8,Bg3,c6,b3,Ra8,a4,b5,a5,bxc4,dxc4,d5,cxd5,cxd5,Bxe5,d4,Bxd4,Bxb3,Rc1,Re7,Qc3,Be6,Bb6,Rc8,Qd2,Rxc1+,Qxc1,Bf5,Qc4+,Kh7,Kh2,Qc6', 'Qxc6,bxc6,Nxf5', 'https://lichess.org/training/D9ZX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DA2wC', 'Rapid', 'ipoteka_ss', 1631, 'MarioCrippa', 1931, 'g4,d5,Bg2,Bxg4,c4,e6,cxd5,exd5,Qb3,Be6,Qxb7,Nd7,Bxd5,Bxd5,Qxd5,Ngf6,Qg2,Bd6,Nf3,O-O,d3,Kh8,Rg1,g6,Bh6,Re8,Ng5,Qe7,f3,Ne5,Kd2,Rab8,b3,Bb4+,Nc3,Bxc3+,Kxc3,Qb4+,Kc2,Re7,Ne4,Nd5,Bd2,Qa3,Qg5,Rbe8,f4,f5,Nf6,Nxf6', 'Qxf6+,Kg8,fxe5', 'https://lichess.org/training/DA2wC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Da3vX', 'Rapid', 'cplyakap1905', 2125, 'kazemi2016', 2022, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nc3,Nf6,O-O,Be7,Re1,O-O,Nxc6,Bxc6,Bxc6,bxc6,b3,d5,exd5,cxd5,Bb2,Bb4,a3,Bxc3,Bxc3,Ne4,Bb2,c6,Qg4,Qg5', 'Rxe4,Qxg4,Rxg4', 'https://lichess.org/training/Da3vX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('da4JC', 'Blitz', 'NM crptone', 2367, 'art231', 1689, 'Nh3,h5,Na3,e5,d4,e4,Bf4,Nc6,e3,Nf6,Bc4,d5,Bb3,Bxh3,gxh3,Bd6,Bg3,h4,Bxd6,Qxd6,Qd2,O-O-O,O-O-O,Qe7,Kb1,Rd6,Nb5,Re6,c4,a6,Na3,Rd8,c5,Nb8,Rhg1,g6,Rg5,c6,Qa5,Nfd7,Rg4,f5,Rg2,g5,Rdg1,Rg6,Bd1,Rh8,Nc2,Nf8,Qd2,Ne6,b4,Nd7,a3,Nf6,Na1,Qc7,Nb3,Rhg8,Kc2,f4,Bg4,Nxg4,Rxg4,f3,Rh1,Kb8,Na5,b6,cxb6,Qxb6,Qe1,R8g7,Qf1,Qb5,Rhg1,Qxf1,Rxf1,Nc7,Kb3,Nb5,Rfg1,Nd6,Nxc6+,Kb7,Na5+,Kb6,Rc1,Nb5,Rc5,Rd7,Rg1,Rdd6,Rgc1,Na7,Rc7,g4,hxg4,Rxg4,R1c6+,Nxc6', 'Rb7#', 'https://lichess.org/training/da4JC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dA4WK', 'Rapid', 'mbarai', 1741, 'Rakesh9062', 1812, 'e4,e5,Bc4,Nc6,Nc3,Nf6,Nf3,d6,O-O,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Kg2,Nd4,Be2,Qf6,Nxd4,exd4,Nd5,Qg6,Nxc7+,Kd7,Bxg4+,Kxc7,Kh2,d5,d3,Bd6+,f4,h5,Bf5,Qf6,Bd2,Qh4+,Kg2,g6,Bh3,g5,e5,gxf4,exd6+,Kc6,Rxf4,Rag8+,Kh2', 'Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/dA4WK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DA9AG', 'Classical', 'kawa_1', 1731, 'ghasssanalassaf48', 1909, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Nbd7,Bc4,Ne5,Qe2,Nxc4,Qxc4,Bd7,Qb3,b5,O-O,e6,Rfd1,Be7,Nf3,Ng4,Bf4,e5,Bg3,Nf6,Bh4,Be6,Nd5,Nxd5,exd5,Bf5,Bxe7,Qxe7,Re1,O-O,Nd4,Bd7,f4,f6,Qe3,Rae8,Nf3,Qd8,fxe5,fxe5,Rf1,Rf4,Rae1,Qf6,Nd2,Rxf1+,Rxf1,Qh4,Ne4,Rf8,Nxd6', 'Rxf1+,Kxf1,Qf6+,Kg1,Qxd6', 'https://lichess.org/training/DA9AG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DaB4T', 'Rapid', 'Damianp2', 1876, 'bovcan', 1884, 'e4,e5,Nf3,d6,Bc4,Bg4,d3,Nc6,c3,Nf6,Nbd2,a6,Nf1,Na5,Bb3,Nxb3,Qxb3,Bxf3,gxf3,b5,Ng3,g6,Be3,Bg7,Ke2,O-O,Rag1,c6,h4,h5,Bg5,Qd7', 'Bxf6,Bxf6,Nxh5', 'https://lichess.org/training/DaB4T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DaB5W', 'Rapid', 'ayman111', 2178, 'preit', 2173, 'd4,e5,d5,Bc5,e3,f5,Qh5+,g6,Qd1,Nf6,c4,O-O,a3,a5,Nc3,d6,Be2,Nbd7,Nf3,Ne4,O-O,Ndf6,Bd2,Bd7,Nb5,c6,Nc3,cxd5,Nxd5,Nxd5,cxd5,b5,Rc1,Qb6,Bd3,Nxd2,Nxd2,Bxe3,Bb1,Bd4,Rc2,Rac8,Nf3,Rxc2,Qxc2,Rc8,Qd2,Bc5,b4,axb4,axb4,Bd4,h3,Bc3,Qg5,Qd8,Qh6,Qf8,Qh4,Rc4,Qg3,e4,Ng5,Bf6,Ne6,Bxe6,dxe6,Qe7,Ba2,Rc3,Qf4,Bg5', 'Qxg5,Qxg5,e7+,Kg7,e8=Q', 'https://lichess.org/training/DaB5W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('daBJT', 'Rapid', 'Gamingwithmoose', 1689, 'MEvertz', 1644, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Nf6,Bd2,Bxc3,Bxc3,Nxe4,Bxe4,Bxe4,Qe2,d5,O-O-O,Qf6,Ne5,O-O,f3,Bg6,h4,h6,g4,Qe7,h5,Bh7,f4,f6,Nd3,Nd7,Rh2,b5,Rg1,Rf7,Rhg2,Be4,Rg3,c5,dxc5,Nxc5,g5,hxg5,fxg5,f5,Ne5,Na4,Bd4,Rc8,c3,b4,Nxf7,bxc3,Nh6+,Kf8,bxc3,Qa3+,Kd1,Nxc3+,Bxc3,Rxc3,Rxc3,Qxc3,Qd2,Qa1+,Ke2,Qxg1,Qb4+,Ke8,Qb8+,Kd7,Qb7+,Kd6', 'Nf7+,Kc5,Qxa7+', 'https://lichess.org/training/daBJT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DaBNO', 'Blitz', 'BlackSkyy', 2033, 'Ialwayshangmyking', 1880, 'b3,d5,Bb2,c5,e3,Nf6,Bb5+,Nc6,f4,e6,Nf3,a6,Bxc6+,bxc6,Ne5,Bb7,O-O,Qc7,d3,Bd6,Nd2,O-O,Ndf3,Nd7,Nxd7,Qxd7,Ne5,Qc7,Qh5,f6,Ng4,Rae8,Rf3,e5,Rh3,h6,f5,d4,e4,a5,Bc1,Re7,Qg6,Rff7,Nxh6+,Kf8,Nxf7,Rxf7,Rh8+,Ke7,Bd2,a4,Qh7,Kd7,Qg8,Rf8,Qe6+,Kd8,Rxf8+,Bxf8,bxa4,Qd7,Ba5+,Kc8,Qg8,Qe8,Bb6,Kd7,a5,Ba6,Rb1,c4,dxc4,Bxc4,Qxc4,Qh5,Bc5,Bxc5,Rb7+,Kc8,Qa6', 'd3+,Kf1,Qd1#', 'https://lichess.org/training/DaBNO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('daBnP', 'Classical', 'FishermansHorizon', 1775, 'Xodga', 1776, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,e6,d3,c6,Bd2,Qd8,Nf3,h6,O-O,Nf6,Ne5,a5,f4,b5,Bxe6,Bxe6,f5,Bd7,Qf3,Bd6,Rae1,O-O,Qg3,Kh7,Ne4,Bxe5,Qxe5,Nxe4,Qxe4,Re8,f6+,g6,Qf4,g5,Qf3,Rxe1,Rxe1,Be6,Rxe6,fxe6,f7,Qf8,Bc3,Ra7', 'Qe4#', 'https://lichess.org/training/daBnP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dAByl', 'Bullet', 'GM alireza2003', 3184, 'GM penguingim1', 3142, 'e4,d6,Nc3,Nf6,d4,Nbd7,Nge2,e5,f3,c6,Be3,b5,a3,a5,Qd2,Bb7,Ng3,b4,Nd1,exd4,Bxd4,c5,Be3,d5,Bb5,dxe4,Nf2,Qb6,a4,Be7,Nfxe4,Rd8,Nxf6+,Bxf6,O-O-O,Bc6,Qe2,O-O,Bxc6,Qxc6,Qb5,Qe6,Ne4,Be7,Kb1,f5,Ng5,Qxe3,Qc4+,Kh8,Nf7+,Rxf7,Qxf7,Rf8,Qd5,Nb6,Qc6,Nc4,Rhe1,Qg5,Qe6,Nxb2,Qxe7', 'Qxe7,Rxe7,Nxd1', 'https://lichess.org/training/dAByl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('daBZB', 'Rapid', 'Qrtebdda', 1917, 'jb75009', 2016, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bg5,e6,Qd2,a6,O-O-O,Bd7,f4,b5,Bxf6,gxf6,Kb1,Qb6,Nxc6,Bxc6,f5,e5,Bd3,h5,h4,Bh6,Qe1,Qe3,Ne2,Rg8,Rh3,Qc5,Ng3,O-O-O,Nxh5,Rxg2,Nxf6,Kb7,Qf1,Rf2,Qg1,Rc8,Rg3,Be3,Qh1,Ka7,Rg7,Rc7,h5,Bh6,Rg2,Rf3,Rdg1,Bb7,Ng4,Bf4,h6,Bxh6,Nxh6,b4,Rg7,b3,axb3,Rxd3,Rxf7,Qxc2+,Ka1,Bxe4', 'Rxc7+,Qxc7,Qxe4', 'https://lichess.org/training/daBZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DaD0I', 'Rapid', 'tiourso', 1736, 'odin97', 1722, 'f4,d5,Nf3,Nc6,e3,e5,fxe5,Qe7,Bb5,a6,Bxc6+,bxc6,d4,c5,c3,cxd4,cxd4,c5,O-O,cxd4,Qxd4,Bb7,Nc3,Nh6,Nxd5,Bxd5,Qxd5,Rd8,Qc6+,Qd7,Qxd7+,Rxd7,b3,Bc5,Ng5,O-O,e6,fxe6,Rxf8+,Bxf8,Nxe6,Rd1+,Kf2,Bd6,Bb2', 'Rd2+,Kf3,Rxb2', 'https://lichess.org/training/DaD0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dae23', 'Blitz', 'idler74', 2110, 'topans', 2056, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,b6,Qd2,Re8,O-O-O,c5,d5,a6,h4,h5,Be2,Nbd7,Nh3,Ne5,Rdg1,Bd7,g4,hxg4,fxg4,Nexg4,Bg5,b5,h5,b4,Bxf6,Nxf6,hxg6,bxc3,gxf7+,Kxf7,Rxg7+,Kxg7,Rg1+,Kf7,Ng5+,Kf8,Nh7+,Kf7,Qf4,cxb2+,Kb1,Rg8,Bh5+,Rg6,Rxg6,Qh8,Rg7+,Kxg7', 'Qg5+,Kxh7,Qg6#', 'https://lichess.org/training/Dae23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DaE3T', 'Blitz', 'DheeGambit', 2007, 'mAHb', 2080, 'd4,e6,Bf4,d5,e3,Bd6,Bxd6,Qxd6,Nf3,h6,Bd3,Ne7,c3,c5,Nbd2,c4,Bc2,Bd7,Qe2,f5,Ne5,Nbc6,Ndf3,g5,Nxc6,Nxc6,Ne5,Nxe5,dxe5,Qxe5,O-O-O,O-O-O,f3,Bc6,Rhe1,Qxh2,e4,Qf4+,Kb1,fxe4,fxe4,Rhe8,exd5,exd5,Qh5,Rxe1,Rxe1,Qf6,a3,Kc7,Qh2+,Rd6,Qh3,Bd7,Qe3,b6,Qg3,h5,Rd1,Kc6,Ba4+,b5,Bc2,Bf5,Bxf5,Qxf5+,Ka1,h4,Qe3,Rd7,Qe8,Qf7,Qc8+,Rc7,Qa6+,Kd7,Qxb5+,Kc8,Rxd5,Qf1+,Ka2,Qxg2,Qa6+,Rb7,Rc5+,Kb8', 'Qd6+,Ka8,Rc8+,Rb8,Rxb8#', 'https://lichess.org/training/DaE3T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DAEDE', 'Blitz', 'Chesstomioka', 2500, 'IM PKX', 2472, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Ne2,Re8,Qc2,h5,O-O,Qc7,h3,Be6,Be3,Nd7,Rae1,Rad8,c4,b6,Nc3,Nf8,Qd2,c5,d5,Bd7,f4,f5,Qf2,Ng6,Re2,a6,b3,Re7,Bd2,Rde8,Rxe7,Rxe7,Ne2,h4,Kh1,b5,Ng1,bxc4,Bxc4,a5,a4,Re4,Ne2,Qd8,Bd3,Re8,Ng1,Qf6,Bxa5,Nxf4,Bb1,Nxd5,Nf3,Ne3,Re1,f4,Qxh4,Qb2,Qh7+,Kf8,Nh4,Bc6,Rg1,g5,Qh6+,Qg7,Qxg7+', 'Kxg7,Nf5+,Nxf5', 'https://lichess.org/training/DAEDE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dafg2', 'Bullet', 'mikmw', 1602, 'v_s_o_p', 1615, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d3,h6,c3,d6,Re1,O-O,a3,Ne7,h3,Ng6,b4,Bb6,a4,c6,Nbd2,Qe7,Bb3,Be6,Bc2,Nh7,Nf1,f5,Re2,f4,N1h2,Ng5,Nxg5,Qxg5,d4,Bxh3,f3,Nh4,Ng4,h5,gxh3,Nxf3+,Kf1,hxg4,hxg4,Qxg4,Rg2,Qh3,Bb3+,d5,exd5,e4,dxc6+,Kh8,Kf2,Nxd4,Qg4,Qxg4', 'Rh2+,Qh5,Rxh5#', 'https://lichess.org/training/dafg2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DaFr9', 'Blitz', 'Meduermoentutitulo', 2242, 'Ivanchucky1609', 2512, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb4+,Bd2,Be7,Bg2,Bb7,Nc3,O-O,d5,exd5,Nh4,c6,Nf5,dxc4,O-O,d5,e4,Nxe4,Nxe4,dxe4,Bxe4,Nd7,Qg4,Bf6,Bb4,Ne5,Qh3,c5', 'Ne7+,Kh8,Qxh7#', 'https://lichess.org/training/DaFr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dag46', 'Rapid', 'drchandrika', 1695, 'FifteenChicks', 1700, 'Nf3,d5,d4,Nc6,e3,Bf5,Bd3,e6,O-O,Bd6,c4,dxc4,Bxc4,Qf6,d5,Ne5,Nxe5,Qxe5,f4,Qe4,Bb5+,Ke7,dxe6,Bxe6,Nc3,Qb4,a3,Qc5,Kh1,Nf6,Qe1,Ne4,b4', 'Qxc3,Qxc3,Nxc3', 'https://lichess.org/training/Dag46');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('daGaj', 'Classical', 'salammo97', 1670, 'Vlad764', 1689, 'd4,d5,c4,Nf6,Bf4,e6,e3,Bb4+,Nc3,O-O,Nf3,Ne4,Qc2,Nc6,a3,Ba5,b4,Nxb4,Qa4,Bd7,Qxa5,Nc2+,Ke2,Nxa1,Nxe4,dxe4,Nd2,Nc2,Kd1,b6,Qa6,Bc8,Qa4,Na1,Qb4,c5,Qb2,cxd4,exd4,e5,Be3,Bg4+,Kc1,Rc8,Qxa1,b5,c5,exd4,Bxd4,f6,Bxb5,Qa5,Bc4+,Kh8,h3,Bd7,Re1,Rce8,Qc3,Qc7,Nxe4', 'Qf4+,Qd2,Rxe4,Qxf4,Rxf4', 'https://lichess.org/training/daGaj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dAgic', 'Rapid', 'juapeq', 1802, 'digest', 1794, 'c4,d5,cxd5,c5,Nc3,Nf6,g3,Nxd5,Bg2,Nxc3,bxc3,Nc6,d3,e5,Qa4,Bd7,Qb3,Bd6,Qxb7,O-O,Bxc6,Bxc6,Qxc6,Re8,Nf3,h6,O-O,Rb8,Be3,Qb6,Qxb6,axb6,Bd2,b5,d4,exd4,cxd4,Rxe2,dxc5,Bxc5,Rab1,Ba7,Bf4,Rb7,a4,b4,a5,Ra2,Bd6,b3,Be5,Rxa5,Bd4,Bxd4,Nxd4,b2,Nf3,g5,Nd2,Rc5,Kg2,Rc2,Rfd1,Rd7,Nc4', 'Rxd1,Rxd1,Rxc4', 'https://lichess.org/training/dAgic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DAHCd', 'Rapid', 'petafizruk', 2097, 'Jan144111', 2086, 'e4,e5,Nc3,Bc5,Nf3,Nc6,Be2,Nf6,O-O,O-O,d3,d6,Na4,b6,Nxc5,bxc5,c3,d5,Bg5,h6,Bxf6,Qxf6,exd5,Ne7,Nd2,Nxd5,Ne4,Qe7,g3,Bb7,c4,Nf6,Bf3,Nxe4,dxe4,Rad8,Qb3,Qf6,Bg2,Bc6,Rad1,Rd4,Rxd4,cxd4,Qa3,Ra8,f4,Bb7,Qc5,Qd6,Qxe5,Qxe5,fxe5,Re8,Rd1,c5,b4,cxb4,Rxd4,Rxe5,Rd8+,Kh7,Rd7,Bxe4,Bxe4+,Rxe4,Rxa7,Rxc4,Rxf7,Kg6,Rf2,Rc5,Rb2,Rb5,Kf2,Kf6,Ke3,Ke5,Kd3,Kd5,a4,Rb6,Rf2,b3,Rf5+,Kc6,Rf1,Kc5,Kc3,Rb4', 'Rf5+,Kc6,Kxb4,b2,Rf1', 'https://lichess.org/training/DAHCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DAhj8', 'Blitz', 'aa_mc_tk', 1683, 'Wolfpack1051', 1687, 'c4,g6,Nc3,Bg7,g3,c5,Bg2,Nf6,Nf3,Nc6,O-O,d6,d3,Bf5,Re1,Qd7,Bg5,h6,Bxf6,Bxf6,Rb1,Bh3,Nd5,h5,Bxh3,Qxh3,Nc7+,Kd7,Nxa8,Rxa8,e4,g5,a3,h4,b4,hxg3,fxg3,Rh8,Re2,g4,Ne1,Bd4+,Kh1,Qxg3,Rg2', 'Rxh2+,Rxh2,Qg1#', 'https://lichess.org/training/DAhj8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('daiKm', 'Classical', 'Alexander97423', 1665, 'Iago_Classics', 1672, 'e4,Nf6,Nc3,g6,b3,Bg7,Bb2,O-O,d3,d6,Nf3,Nc6,d4,e5,d5,Ne7,Qd2,Nd7,O-O-O,f5,exf5,Nxf5,Bd3', 'Bh6,Qxh6,Nxh6', 'https://lichess.org/training/daiKm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('daIkz', 'Blitz', 'Bnbn07', 2321, 'amashdelle07', 2270, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,a6,Be2,e6,O-O,Nbd7,h3,b5,a3,Bb7,Re1,Qc6,Kf1,Be7,Kg1,O-O,Bf1,Rfe8,Bf4,Bd6,Ne5,Bxe5,dxe5,Nd5,Nxd5,Qxd5,Qg4,Nf8,Rad1,Qc6,c3,Ng6,h4,Rad8,h5,Ne7,Bg5,Rxd1,Rxd1,Nf5,Bf6,Kh8,Bg5,h6,Bf4,Rg8,Be2,g6,Bf3,Qb6,Rd7', 'gxh5,Qxh5,Bxf3,Qxf3,Nh4,Qe4,Rxg2+,Qxg2,Nxg2', 'https://lichess.org/training/daIkz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Daj3Q', 'Blitz', 'xpto12', 1891, 'sicvenub', 1795, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Bf4,Bb4+,c3,Ba5,b4,Bb6,a4,a5,b5,Ba7,Nd2,c6,h3,O-O,Ne2,cxb5,axb5,Bd7,O-O,Qe8,Qb3,Bb6,Rfe1,Ne4,f3,Nxd2,Bxd2,Be6,Nf4,Nd7,Bf5,Qb8,Nxe6,fxe6,Bxe6+,Kh8,Bxd7,Qg3,Re5,Rxf3,Qxd5,Raf8,Bg4,Rf2,Kh1', 'Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/Daj3Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dajM2', 'Classical', 'MariamAmro211', 1774, 'Shagolsem', 1770, 'd4,d5,Bf4,Nf6,e3,Nc6,Bd3,e6,Qf3,Bd6,Nc3,O-O,Nge2,Re8,O-O-O,Bd7,h4,a6,g4,Qe7,g5,e5,gxf6,Qxf6,dxe5,Nxe5,Bxe5', 'Qxf3,Bxd6,cxd6', 'https://lichess.org/training/dajM2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dak98', 'Classical', 'PieceOfCheckmate', 1807, 'Y_MAKAR', 1846, 'Nf3,d5,d4,c6,g3,h6,Bg2,Bf5,O-O,Nd7,c4,e6,Bf4,Ngf6,Nbd2,Nb6,cxd5,Nbxd5,Be5,Nd7,Rc1,Nxe5,Nxe5,Rb8,e4,Bxe4,Nxe4,Nb4,a3,Nd5,Qf3,Qe7,Nc3,Nxc3,Rxc3,Rd8,Rxc6,bxc6,Qxc6+,Rd7,Nxd7,Qxd7,Qa8+,Ke7,Rc1,Kf6,Rc8,Qe7,Qf3+,Kg6,Qg4+,Kh7,Be4+,g6,h4,f5,Qf4,fxe4', 'Rc7,Qxc7,Qxc7+', 'https://lichess.org/training/Dak98');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dAktg', 'Rapid', 'mark_novikov', 1687, 'GiulianoS', 1605, 'd4,e6,c4,c5,e3,cxd4,exd4,Nf6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,Bd3,Nc6,O-O,d5,c5,b6,cxb6,axb6,Bb5,Na7,Bd3,b5,Qb3,Ba6,Qa3,Nc6,b4,Bb7,Qb3,Ne4,Nxe4,dxe4,Bxe4,Nxd4,Nxd4,Bxe4,f3,Qxd4+,Kh1,Bd5,Qb1,Qd2,a3,Rac8,Rd1,Qf2,Rf1,Qc2,Rc1,Qxb1,Rcxb1,Rfd8,a4,bxa4,Rxa4,Rc4,h3,h6,Ra7,e5,b5,Be6,b6,Bf5,Rb2,Rc1+,Kh2,Rc2', 'Rxc2,Bxc2,b7,Kh7,Ra8,Rxa8,bxa8=Q', 'https://lichess.org/training/dAktg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dAl0u', 'Rapid', 'E_Onegin', 1824, 'Parmelan', 1777, 'e4,d6,d4,Nf6,Bd3,e5,dxe5,dxe5,Bb5+,Bd7,Bc4,Bc5,Nf3,Nc6,Nc3,O-O,O-O,Nd4,Nd5,Nxe4,Be3,c6,Nc3,Nxc3,bxc3,Nxf3+,Qxf3,Bxe3,fxe3,b5,Bd3,f6,Qh5,g6,Qh4,Qe7,Rf3,Rf7,Raf1,Raf8,c4,bxc4,Qxc4,Kg7,Qa4,Qc5,Qh4,f5,R3f2,e4,Ba6,Qxe3,Bc4,Rf6,Kh1,Qc5,Bb3,Be6,Qg3,Bxb3,axb3,Qd6,Qe3,c5,Rd2,Qc7,Qc3,Kg8,Rfd1,R6f7,Qc4,e3,Rd7,Qe5,Rxf7,Rxf7,Rd8+,Kg7,Rd5,Qe7,Qe2,Qc7,Qxe3,Re7,Qf2,Re4,h3,a5,Rxc5,Qe7,Rxa5', 'Re1+,Kh2,Qc7+,g3,Qxa5', 'https://lichess.org/training/dAl0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dalVH', 'Rapid', 'vladihard', 2001, 'BrooklynBoy', 2130, 'e4,c5,c3,d5,exd5,Qxd5,d4,e6,Nf3,Nc6,dxc5,Qxd1+,Kxd1,Bxc5,Be3,Bxe3,fxe3,Nf6,Bb5,Bd7,Nbd2,Rd8,h3,e5,Ke1,e4,Nd4,Nxd4,Bxd7+,Rxd7,cxd4,Re7,Rc1,O-O,Ke2,Nh5,Rhd1,f5,Rc5,g6,Rdc1,f4,Rc7,Rxc7,Rxc7,Ng3+,Ke1', 'fxe3,Rc3,exd2+', 'https://lichess.org/training/dalVH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dandz', 'Classical', 'Peon_ladino', 1815, 'benschess09', 1683, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,c5,c3,Nc6,O-O,Be7,Re1,O-O,Bg5,h6,Bxf6,Bxf6,Ne5,Nxe5,dxe5,Be7,Nd2,c4,Bc2,Bc5,Nf3,Qb6,Nd4,Qxb2,Qd2,Bxd4', 'Bh7+,Kxh7,Qxb2', 'https://lichess.org/training/dandz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('daoDn', 'Rapid', 'Puablol', 1684, 'Bandaras88', 1677, 'e4,e5,Nc3,Nc6,Bb5,d6,Nf3,Bd7,O-O,Nf6,d3,Be7,Bg5,h6,Bxf6,Bxf6,Nd5,h5,c3,h4,h3,g5,d4,g4,Nxf6+,Qxf6,dxe5,Nxe5,Bxd7+,Nxd7,hxg4,Ne5,Nxe5,Qxe5,Qa4+,c6,f4,Qe6,f5,Qe5,Qd4,Qxd4+,cxd4,O-O-O,Rf4,Rde8,Re1,f6,Kh2,Kc7,g3,h3,Rf3,d5,e5,fxe5,dxe5,Kd7,g5,Rhg8,g6,Ref8,Kxh3,Rxg6,e6+,Ke7,g4,Rh6+,Kg3,Rfh8,g5,Rh3+,Kf4,R8h4+,Ke3', 'Re4+,Kd2,Rxf3', 'https://lichess.org/training/daoDn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dAofx', 'Rapid', 'Slava2410', 1793, 'JK2500', 1803, 'd4,d5,Bf4,Nf6,e3,b6,Nf3,Bb7,Nbd2,c5,c3,e6,Be2,c4,Qc2,Bd6,Ne5,Nc6,g4,O-O,O-O-O,a5,a4,Qe7,f3,Nd7,Nxd7,Qxd7,Bg3,Ne7,f4,b5,axb5,Qxb5,e4,dxe4,Nxe4,Bc7,h4,Qc6,Bf3,Qb6,h5,a4,h6,g6,Nf6+,Kh8,Nd7,Qa6,Bxb7,Qxb7,Nxf8,Rxf8,Qxa4,Ra8,Qxc4,Ra1+,Kc2,Qg2+,Kb3,Qb7+,Qb4,Qd5+,c4,Qf3+,Qc3,Qb7+,Kc2,Qg2+,Qd2,Qe4+,Kc3,Ba5+,b4,Qf3+,Qd3,Ra3+,Kc2,Rxd3,Rxd3,Qxh1,bxa5,Qg2+,Kc3,Qa8,Kb4,Nc6+,Kb5,Nxa5,Ra3,Qb7+,Kxa5,Qa8+,Kb4,Qb7+,Kc5', 'Qe7+,Kb5,Qxa3', 'https://lichess.org/training/dAofx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('daOVV', 'Classical', 'Ben2006Tor', 2143, 'Roch_7220', 2175, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,f3,b5,Qd2,Bb7,g4,d5,g5,d4,gxf6,dxe3,Qxd8+,Bxd8,fxg7,Rg8,Bxb5+,axb5,Nxb5,Bh4+,Kd1,Ke7,Nc5,Bc6,Nc3,Na6,Nxa6,Rxa6,Ke2,Bf2,Rad1,Rxg7,Nd5+,Bxd5,Rxd5,Rxa2,Rxe5+,Kf6,f4,Rxb2,Rd1,Rxc2+,Kf3,Rc6,Rd7,Re6,Rh5,Rxe4,Rh6+,Rg6,Rxh7,Re7,Rd6+,Re6,Rd7,Re8', 'Rhxf7+,Ke6,f5+,Ke5,fxg6', 'https://lichess.org/training/daOVV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dAOZo', 'Rapid', 'abracadabra38', 1703, 'Anton23rus', 1711, 'Nf3,Nf6,c4,c6,Nc3,Qc7,g3,e5,e4,Bb4,Bg2,Bxc3,bxc3,Nxe4,O-O,f5,Bb2,O-O,d3,Nf6,Re1,f4,Nxe5,fxg3,fxg3,d6,Nf3,Bg4,h3,Bxf3,Qxf3,Nbd7,Re7,Nd5,Rxd7,Rxf3', 'Rxc7,Nxc7,Bxf3', 'https://lichess.org/training/dAOZo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dap8A', 'Classical', 'yonas123', 1643, 'jamshid2001j', 1681, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Bg4,f3,Bf5,Ne2,Nc6,O-O,e6,Nbc3,Bb4,e4,Bg6,d5,exd5,exd5,Ne7', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/dap8A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dApEM', 'Rapid', 'Fas1961', 1749, 'DamianLEWY09', 1704, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d5,exd5,Nxd5,c3,Bg4,b4,Bb6,a4,a5,b5,Nce7,Nbd2,Nxc3,Qc2,Ne2+,Kh1,Nd4,Nxd4,Qxd4,Bb2,Qf4,f3,Nf5,fxg4', 'Ng3+,hxg3,Qh6#', 'https://lichess.org/training/dApEM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DaPGd', 'Rapid', 'vladikramnik01', 1604, 'Skakivalerios', 1615, 'd4,c6,Bf4,d6,e3,Nf6,Nf3,h6,c4,Bf5,Bd3,Bxd3,Qxd3,Nbd7,Nc3,e6,O-O,Be7,Ne4,Nxe4,Qxe4,d5,cxd5,cxd5,Qd3,Rc8,Rac1,O-O,Ne5,Nxe5,Bxe5,Bd6', 'Rxc8,Qxc8,Bxd6', 'https://lichess.org/training/DaPGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dapus', 'Rapid', 'cgold', 1861, 'Stinkbug', 1901, 'd4,Nf6,c4,e6,g3,d5,Bg2,Be7,Nf3,O-O,O-O,c6,Nbd2,Nbd7,Qc2,Re8,e4,Nxe4,Nxe4,dxe4,Qxe4,Nf6,Qe2,Qc7,Bf4,Bd6,Ne5,Bd7,c5,Bxe5,Bxe5,Qd8,b4,Nd5,Qb2,f6,Bd6,e5,dxe5,fxe5,Bxe5,Qe7,Rae1,Qf7,f4,a5,b5,Nb4,Rd1,Be6,a3,Nd5,f5,Bc8,g4,Ne3,bxc6,Nxd1', 'Rxd1,bxc6,Bxc6', 'https://lichess.org/training/dapus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dAqhg', 'Rapid', 'minXak', 1654, 'Soltastino', 1844, 'd4,d5,c4,Nf6,Nc3,Nc6,Bg5,e6,e4,dxe4,Nxe4,Qxd4,Nxf6+,gxf6,Qxd4,Nxd4,Bxf6,Nc2+,Kd2,Nxa1,Bxh8,Bh6+,Kd1,Ke7,b3,f6,Bd3,e5,Bxh7,Be6,Bxf6+,Kxf6,Nf3,Rd8+,Ke2,Nc2,Bxc2,Bg4,Rd1,Rxd1,Bxd1', 'e4,Ke1,exf3', 'https://lichess.org/training/dAqhg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DaRhE', 'Rapid', 'Hayk_kocharyan', 2311, 'IM Paramos', 2549, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,d6,O-O,e5,d3,Nc6,Rb1,a5,a3,h6,b4,axb4,axb4,Be6,Nd2,Qd7,Re1,Bh3,Bh1,Ng4,b5,Nd8,Nd5,f5,f4,Kh7,Nb3,Ne6,e4,fxe4,Bxe4,exf4,Nxf4,Nxf4,Bxf4,Ra2,Re2,Rxe2,Qxe2,Be5,Bxe5,Rf2,Qxf2,Nxf2,Kxf2,dxe5,Ke2,Bf5,Rf1,Bxe4,dxe4,Kg7,Ke3,Qe6,Nd2,Qb6+,Ke2,Qd4,g4,Qd7,h3,Qd4,Rf3,Qd8,Rd3,Qe7,Rf3,c6,bxc6,bxc6,Rd3,Kf6,Rf3+,Ke6,Rd3,Qb4,Rf3,Qc5,Rf1,Qd4,Rf3,Qg1,Kd3,Qg2,Re3,Kd6,Rf3,Kc5,Nb3+,Kb4,Nd2,h5,gxh5,gxh5,Re3,h4,Rf3,Qh1,Re3,Qd1,Rf3,Ka3', 'Rf1,Qxf1+,Nxf1', 'https://lichess.org/training/DaRhE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DaRix', 'Rapid', 'modern-kunj', 2097, 'shivarajat', 1995, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,c3,d6,h3,O-O,Bb3,Bb6,O-O,Be6,Bc2,Qd7,Nh2,h6,Kh1,Ne7,f4,exf4,Bxf4,Ng6,Bxh6,gxh6,Rxf6,Kg7,Rf1,Nh4,Qe1,Nxg2,Qg3+,Kh7,Kxg2', 'Rg8,Ng4,Bxg4,hxg4,Rxg4', 'https://lichess.org/training/DaRix');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dAskq', 'Rapid', 'FRANCOCHESSMAN', 1854, 'ayham', 1719, 'e4,e5,Nf3,Qf6,Nc3,Bb4,a3,Bxc3,dxc3,Nc6,Bg5,Qg6,Bb5,Qxe4+,Qe2,Qxe2+,Bxe2,f6,Be3,d6,O-O-O,Nge7,h4,Bf5,Nd2,O-O-O,g4,Bg6,Nb3,Kb8,h5,Bf7,Rd2,h6,Rhd1,Ng8,Bf3,Nge7,Kb1,g6,Nc1,g5,b4,f5,Re2,e4,Bg2,f4,Bd4,Nxd4,Rxd4,d5,f3,Nc6,Rd1,exf3,Bxf3,a6,Nb3,b6,Nd4,Nxd4,cxd4,Rd6,Rde1,Rhd8,Re7,Bg8,Re8,Kc8,Rxd8+,Rxd8,Be2,b5,Bd3,Rd6', 'Re8+,Kd7,Rxg8', 'https://lichess.org/training/dAskq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('daSNo', 'Classical', 'Futura-WFM', 1918, 'EugeNemo', 1899, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,h3,O-O,O-O,h6,c3,c6,Nbd2,Be6,Re1,Qc7,Nf1,Nbd7,Ne3,Ne4,Nh4,Ndf6,Nef5,Bh2+,Kf1,Bxf5,Nxf5,Bf4,Qf3', 'Bxc1,Raxc1,Nd2+,Ke2,Nxf3', 'https://lichess.org/training/daSNo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DASye', 'Rapid', 'MorleyMadness', 2140, 'aasadi00', 2116, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bf5,Bd3,Bxd3,Qxd3,e6,Qb5+,Nbd7,Qxb7,Bd6,Nb5,O-O,Nxd6,cxd6,O-O,e5,dxe5,dxe5,Rd1,e4,Ne5,Nc5,Rxd8,Raxd8,Qb5,Rd1+,Qf1,Rxf1+,Kxf1,Re8,Nc6,Re6,Nxa7,Rb6,Be3,Nfd7,Nc8,Rxb2,Rd1,h6,Ra1,Na4,c4,Ndc5,Nd6,Rc2,Bxc5,Nxc5,a4,Na6,a5,g6,g3,f5,h3,e3,fxe3,Rh2,c5', 'Rh1+,Ke2,Rxa1', 'https://lichess.org/training/DASye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DATdI', 'Classical', 'fernandopj', 1757, 'prkbnk', 1653, 'd4,Nf6,c4,Nc6,Nc3,e5,d5,Na5,e4,b6,a3,c6,b4,Nb7,dxc6,dxc6,Qxd8+,Nxd8,Nf3,Bd6,Bd3,Bg4,Be2,Ne6,h3,Bh5,O-O,h6,Nh4,Bxe2,Nxe2,Nxe4,Nf5,Bf8,Rd1,g6,Ne3,f6,Ra2,Rd8,Rxd8+,Nxd8,f3,Nd6,Rd2,h5,a4,Ke7,b5,c5,Nd5+,Ke6,Nec3,Rh7,Ne3,Bh6,Ncd5,N8b7,Kf2,Rf7,Rd1,Na5,g3,Bxe3+,Bxe3,Naxc4,Bc1,Na5,Ne3,Nb3,g4,h4,Ng2,g5,Ne3,Nd4,Bb2,f5,gxf5+,N6xf5,Ng4,Ng3,Bxd4,cxd4,Rc1,Kd5,Re1,Re7,Nf6+,Kc5,Rc1+,Kd6', 'Rc6#', 'https://lichess.org/training/DATdI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('datH7', 'Rapid', 'yaroshlav', 2049, 'alikahi2000', 1858, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,Bg5,Be7,e3,O-O,Be2,Nbd7,O-O,b6,b3,Bb7,h3,Rc8,Rc1,dxc4,bxc4,c5,d5,exd5,cxd5,Nb8,e4,h6,Bf4,Re8,d6,Bf8,e5,Nfd7,Nb5,Bxf3,Bxf3,Nxe5,Bxe5,Rxe5,Bb7,Rg5,Bxc8,Qxc8,Kh1', 'Qc6,Qf3,Qxb5', 'https://lichess.org/training/datH7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dATLE', 'Blitz', 'sreekuttan', 1721, 'Adishasubhash', 1832, 'd4,e6,Bf4,d5,e3,c5,c3,Nc6,Nf3,Nf6,Nbd2,a6,dxc5,Bxc5,Nd4,Bd6,Bg3,O-O,N2f3,Qc7,Bd3,h6,Bxd6,Qxd6,O-O,Nd7,Rc1,Nde5,Bb1,Nxf3+,Nxf3,e5,e4,d4,cxd4,Nxd4,Nxd4,exd4,Rc4,Rd8,Qd3,Be6,Rcc1,Qb6,b3,Qb5,Qg3,d3,Rfd1,d2,Rc2,Qe2,Qf3', 'Qe1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/dATLE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DauxC', 'Blitz', 'ntien', 1663, 'zugon', 1625, 'd4,g6,c4,Bh6,Bxh6,Nxh6,Nc3,O-O,e4,c6,Be2,e6,Qd2,Kg7,h4,Ng8,h5,Nf6,h6+,Kg8,e5,Ne8,g4,d6,Nf3,dxe5,Nxe5,Nd7,Nxd7,Bxd7,O-O-O,Qf6,Ne4,Qe7,g5,Rd8,Qc3,b5,d5,cxd5,Qg7+,Nxg7,Nf6+,Kh8', 'hxg7+,Kxg7,Rxh7#', 'https://lichess.org/training/DauxC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dAV2R', 'Rapid', 'Lesshonma', 2017, 'Yrema', 2052, 'e4,e5,Bc4,Nf6,Nf3,d6,O-O,Nc6,Nc3,Bg4,h3,Bh5,b3,Be7,Bb2,O-O,Re1,Nd4,Nd5,Nxd5,Bxd5,c6,Bc4,d5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,d4,c3,c5,b4,Bd6,bxc5,Bxc5,cxd4,Bxd4,Bxd4,Qxd4,Red1,h6,Rab1,b6,Rb3,Rad8,d3,Qc5,Qe3,Qe7,g3,Qe6,Kg2,f5,f3,f4,Qe2,fxg3,Rb5,a6,Rb3,b5,Rc1,Rc8,Rbc3,Rxc3,Rxc3,Rc8,Rxc8+,Qxc8,Kxg3,Qd8,f4,exf4+,Kxf4,Qf6+,Kg3,Qg5+,Qg4,Qe3+,Qf3,Qe1+,Qf2,Qd1,Qe3,Qb1,Qd2,Qg1+,Kf3,Qf1+,Ke3,Qxh3+,Kd4,Qd7+,Kc3,Qc6+,Kb4,Qb6,d4,a5+,Kb3,a4+,Kb4,Qb7,d5,Kf7,d6,Ke8,e5,Qc6,Qd3,Kd8,Qxb5,Qxb5+', 'Kxb5,Kd7,Kc5', 'https://lichess.org/training/dAV2R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('daW0e', 'Blitz', 'peter-123', 2180, 'hani2002', 2058, 'd4,Nc6,d5,Nb8,Nf3,f5,c4,Nf6,Bg5,e6,dxe6,dxe6,Qxd8+,Kxd8,Bxf6+,gxf6,Nc3,Nc6,O-O-O+,Ke8,e3,Bd6,Bd3,Rg8,g3,Ne5,Nxe5,fxe5,Bc2,Ke7,Nb5,a6,Nxd6,cxd6,b3,Bd7,Rd2,Rac8,Rhd1,Rc6,Kb2,Rgc8,h4,b5,Bd3,bxc4,Bxc4,d5,Be2,a5,Bb5,Rc5,Bxd7,Kxd7,f3,Ke7,e4,fxe4,fxe4,dxe4,Rd7+,Kf6,Rxh7,Rc2+,Ka3,Rf2,Rdd7,Rcc2,Ka4,Rxa2+,Kb5,Rab2,Ka4,Ra2+,Kb5,Rfb2,Kc4,Kf5,Rhg7,e3', 'Rdf7+,Ke4,Rg4#', 'https://lichess.org/training/daW0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DaWa0', 'Rapid', 'TangoJnr', 1958, 'tigrenok777', 1939, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Nc6,c3,Bd6,h3,O-O,O-O,Re8,Bg5,h6,Bh4,Be6,Nbd2,Qd7,Bxf6,gxf6,Qc2,Kh8,Nh4,Bxh3,Bf5,Bxf5,Nxf5,Bf8,Rae1,Ne7,Ng3,Qg4,Nf3,h5,Kh2,h4,Ne2,h3,Ng3,hxg2,Kxg2,Ng6,Rh1+,Kg7,Qf5,Nf4+', 'Qxf4,Qxf4,Nh5+,Kg8,Nxf4', 'https://lichess.org/training/DaWa0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dawrv', 'Rapid', 'karl_kaefer', 2099, 'siteacaesverpron', 2258, 'e4,c5,Nc3,a6,Nge2,b5,g3,Bb7,Bg2,e6,d4,cxd4,Nxd4,Qc7,Be3,Bb4,Ne2,Nf6,f3,d5,a3,Bc5,Bxc5,Qxc5,Qd4,Nbd7,O-O,O-O,exd5,Nxd5,f4,Nxc3,Qxc5', 'Nxe2+,Kf2,Nxc5', 'https://lichess.org/training/dawrv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DAya1', 'Rapid', 'BenniUpland', 1816, 'MakesYouThinkYouLost', 1876, 'c4,f5,g3,Nf6,Bg2,e6,Nc3,Be7,d3,O-O,Nf3,c6,O-O,d5,cxd5,cxd5,Bf4,Nbd7,Nb5,Ne8,Bc7', 'Nxc7,Nxc7,Qxc7', 'https://lichess.org/training/DAya1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dAyiw', 'Rapid', 'daniel_c137', 1791, 'trainerdjie', 1988, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,O-O,e3,d6,Nf3,Bd7,Be2,Bg4,O-O,Nbd7,a3,c5,d5,Nh5,h3,Bxf3,Bxf3,Nxf4,exf4,a6,Qc2,Rb8,Rfe1,b5,b3,b4,axb4,cxb4,Ne2,Bxa1,Rxa1,Qb6,Bg4,f5,Bf3,Rbe8,Qa2,Nc5,Nd4,e5,dxe6,Nxe6', 'Nxe6,Rxe6,Bd5', 'https://lichess.org/training/dAyiw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DAZbi', 'Blitz', 'P4anda98', 1639, 'creutzfeldt-jakob', 1649, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Qf3,O-O,Rd1,d6,h3,a6,Nxc6,bxc6,e5,Ne8,exd6,exd6,Bd3,Bb7,O-O,Rb8,Qg4,d5,Bg5,Qb6,Na4,Qa5,b3,Bc8,Qf4,Be6,Be7,Nc7,Bxf8,Rxf8,Rfe1,c5,Qd6,c4,bxc4,dxc4,Bxg6,hxg6,Nc5,Bc3,Nxe6,Nxe6,Rxe6,fxe6,Qxe6+,Kg7,Rd7+,Kh6,Qe3+,g5,Rd6+,Kh5,Qf3+,Rxf3', 'g4+,Kh4,Rh6#', 'https://lichess.org/training/DAZbi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Db2aF', 'Rapid', 'mplus', 2202, 'rennshu', 2173, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,d4,Nxd4,Nxd4,exd4,e5,Ne8,Qxd4,c5,Qe4,Rb8,c4,Bb7,Qg4,d5,exd6,Nxd6,cxb5,axb5,Nc3,Bf6,Bf4,c4,Bc2,Bxc3,bxc3,f5,Qh5,Qf6,Rad1,Rbd8,Be5,Qf7,Qg5,Ne4,Bxe4,fxe4,Bd4', 'Rxd4,cxd4,Qxf2+,Kh1,e3', 'https://lichess.org/training/Db2aF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('db2Dx', 'Classical', 'Ketze', 1659, 'petiiik', 1726, 'e4,c6,f4,d5,e5,Bf5,Nf3,e6,d4,c5,c3,Nc6,Be3,cxd4,cxd4,Bb4+,Nbd2,Nge7,a3,Bxd2+,Qxd2,O-O,Bd3,Bxd3,Qxd3,Nf5,O-O,Nxe3,Qxe3,Ne7,Ng5,Nf5,Qh3,h6,Nf3,Ne3,Rf2,Rc8,Re1,Nf5,g4,Ne7,g5,Nf5,gxh6,Nxh6,Rg2,Kh8,Kh1,Rg8,Reg1,f5,exf6,Qxf6,Rg6,Qxf4,Ng5,Rc1', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/db2Dx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('db32P', 'Classical', 'scacchiUSA', 1688, 'rudi-kusaman', 1693, 'd4,d5,e3,Nf6,Nf3,g6,c4,e6,Nc3,dxc4,Bxc4,Bg7,h3,O-O,O-O,c6,Re1,b5,Bb3,a5,a3,a4,Ba2,Na6,e4,c5,dxc5,Qxd1,Rxd1,Nxc5,e5,Nfe4,Nxb5,Bb7,Be3,Na6,b3,axb3,Bxb3,Nec5,Bc4,Bxf3,gxf3,Bxe5,Bxc5,Bxa1', 'Bxf8,Kxf8,Rxa1', 'https://lichess.org/training/db32P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DB5In', 'Rapid', 'Mr_Omina', 2007, 'perdedor79', 2080, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,Nc6,a3,a6,d3,b5,Ba2,Bb7,O-O,e6,Bg5,Be7,Re1,O-O,Bh4,Ng4,Bxe7,Qxe7,Ne2,Nge5,Ng3,Nxf3+,Qxf3,Nd4,Qd1,a5,e5,d5,Rc1,Nc6,Qg4,b4,Nh5,g6,Nf6+,Kg7,Qh4,h6,f4,Nd4', 'Nh5+,gxh5,Qxe7', 'https://lichess.org/training/DB5In');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DB7TJ', 'Classical', 'Braincheck', 1688, 'YKerem1907', 1675, 'e4,d6,d4,f5,Nc3,fxe4,Nxe4,d5,Nc3,c6,Bd3,g6,Nf3,Nd7,Ne2,Ngf6,h3,Bg7,Bg5,Ne4,Ng3,Nxg3,fxg3,Bf6,Bh6,Qc7,Bf4,Qa5+,c3,Bg7,Qe2,Qd8,O-O-O,O-O,Kb1,Nb6,h4,Na4,h5,Qb6,hxg6', 'Nxc3+,Ka1,Nxe2', 'https://lichess.org/training/DB7TJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DB8Jb', 'Rapid', 'LX2019', 1791, 'adyank', 1808, 'e4,e6,Nf3,b6,d4,Bb7,Nc3,Nf6,Bd3,d6,Bg5,Be7,h3,h6,Be3,g5,Qd2,Nbd7,e5,Nd5,Nxd5,Bxd5,Qc3,dxe5,dxe5,Nc5,Bb5+,c6,Be2,Ne4,Qd3,Qc7,O-O,O-O-O,c4,g4,Ne1,gxh3,g3,Nxg3,cxd5,Nxf1,d6,Qb7,Bxf1,Rhg8+,Kh2,Bg5,Qa3,Bxe3,Ba6,Bxf2,Bxb7+,Kxb7,Nc2,Rg2+,Kxh3,Rdg8,d7,R2g5,Qf3', 'Rg3+,Qxg3,Rxg3+', 'https://lichess.org/training/DB8Jb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DB8ys', 'Classical', 'Ransboy', 1980, 'Eisenmann501', 2007, 'd4,g6,e3,Bg7,Bd3,d6,f4,Nc6,Nf3,Bg4,O-O,e5,fxe5,dxe5,c3,Nge7,Qe1,O-O,Qg3,Bxf3,Qxf3,f5,Bc4+,Kh8,Nd2,e4,Qe2,Na5,Bb3,Nxb3,axb3,Nd5,b4,a6,Nb3,h6,Nc5,Qc8,Qc4,c6,Qe2,g5,g3,b6,Nb3,Qb7,Nd2,a5,bxa5,bxa5,Nc4,Qb5,Re1,c5,Nd6,Qxe2,Rxe2,cxd4,cxd4,Nb4,Bd2,Nd3,Rxa5,Rxa5,Bxa5,f4,gxf4,gxf4,Nxe4,fxe3,Bc3,Rd8,Rxe3,Bxd4,Bxd4+,Rxd4,b3,Kg7,Kg2,Kf7,Kf3,Ne5+,Kf4,Nd3+,Kf5,Rd5+,Kg4,Ne5+,Kg3,Nd3,h4,Kg6,h5+,Kf5,Nf2,Nxf2,Kxf2,Kf4,Rh3,Rd2+,Ke1,Rb2,Kf1,Kg4,Rc3,Kxh5,Rc5+,Kg4,Rc4+,Kf3,b4', 'Rb1+,Rc1,Rxc1#', 'https://lichess.org/training/DB8ys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DB98M', 'Blitz', 'sahalihosseini', 1625, 'Luisvil', 1637, 'e4,e5,d3,Nc6,Be3,Nf6,Nf3,d5,exd5,Nxd5,Qd2,Nxe3,Qxe3,Bd6,Nc3,Nb4,Qd2,O-O,O-O-O,Bg4,h3,Bxf3,gxf3,Re8,Rg1,Qf6,Ne4,Nxa2+,Kb1,Qe6,Ng5,Qd5,c4,Bb4,Qc2,Qa5,Qb3,h6,Ne4,f5,c5+,Kh8,Ng3,Bxc5,Qxa2,Qxa2+,Kxa2,Bxf2,Rg2,f4,Ne4,Be3,Rg6,Rad8,Be2,Rd4,Nc3,Kh7,Rg4,Re6,Nb5,Ra6+,Kb1,Rd7,Nc3,Bd4,Nb5,Rb6,Nxd4,Rxd4,Rc1,c6,Rcg1,g5,h4,Rdb4,hxg5,Rxb2+,Kc1,Rxe2,gxh6,Ra2,Rg7+,Kxh6,R1g6+,Kh5,Rg5+,Kh4', 'Rg4+,Kh5,Rh7#', 'https://lichess.org/training/DB98M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('db9UU', 'Rapid', 'Captn_Jack', 1654, 'ousayed', 1708, 'd4,Nf6,c4,d6,Bg5,e5,dxe5,dxe5,Qxd8+,Kxd8,Bxf6+,gxf6,Nc3,Nc6,O-O-O+,Ke8,a3,Be6,e3,Bh6,h3,Na5,Nd5,Bxd5,Rxd5,Nb3+,Kc2,Na1+,Kc3,Rd8,Nf3,Rxd5,cxd5,a5,Bb5+,c6,dxc6,bxc6,Bxc6+,Ke7,Rxa1,Rc8,Nh4,Ke6,Rd1,Rxc6+,Kb3,a4+,Kxa4,Rc4+,Kb5,Rxh4,a4,Bf8,a5,Rb4+,Kc6,Rxb2,Ra1,Rb8', 'a6,Rc8+,Kb7', 'https://lichess.org/training/db9UU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dBb8y', 'Classical', 'Arsmor', 1688, 'NM killer74', 2243, 'Nf3,Nf6,g3,b6,Bg2,Bb7,O-O,e6,Nc3,Be7,d3,O-O,e4,d5,exd5,exd5,Bf4,c5,Nb5,Na6,Re1,Qd7,Nc3,Bd6,Bxd6,Qxd6,Qe2,Rfe8,Qd2,d4,Rxe8+,Rxe8,Nb5,Qd7,a4,Nb4,Nxa7', 'Bxf3,Bxf3,Qxa7', 'https://lichess.org/training/dBb8y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DbbfQ', 'Rapid', 'MaxiumOdilon', 1663, 'Vengs', 1665, 'e4,b6,d4,Bb7,Bd3,e6,Nf3,Nf6,Qe2,d5,e5,Nfd7,Bf4,f6,Nbd2,Nc6,c3,fxe5,Nxe5,Ndxe5,Qh5+,g6,Qe2,Nxd3+,Qxd3,Bd6,g3,Bxf4,gxf4,Qd6,Qe3,O-O-O,O-O-O,Rde8,Nf3,Rhf8,Rhe1,Rxf4,Ne5,Re4,Qh6,Nxe5,Rxe4,dxe4,dxe5,Qxe5,Qxh7,e3', 'Qd7+,Kb8,Qxe8+', 'https://lichess.org/training/DbbfQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DBbxe', 'Classical', 'User260519650007', 1813, 'nikishar', 1887, 'e4,e5,Qh5,Qe7,Nc3,Nf6,Qf3,Nc6,Nge2,d6,h3,Be6,a3,O-O-O,d3,d5,Ng3,Nd4,Qd1,dxe4,Ncxe4,Nd5,Be2,Nf4,O-O,f5,Nc3,g5,Bxf4,gxf4,Nh1,e4,f3,Rg8,fxe4,Rxg2+,Kxg2,Qg5+,Kh2,Bd6,Bf3,Qh4,e5,Bxe5,Ne2,Nxf3+,Rxf3,Rg8,Qf1,Bd5,d4,Bd6,c3,Qh5,Ng1,Rxg1,Qxg1,Qxf3,Rf1,Qe2+,Rf2,f3+,Ng3,Qe6,c4,f4,Nh5,Bxc4,Rxf3,Qe2+,Rf2,f3+,Ng3,Qe3,Kh1,Qxd4,Nf5,Qd5,Nxd6+,cxd6,Qg4+,Kc7,Qxf3', 'Qxf3+,Rxf3,Bd5', 'https://lichess.org/training/DBbxe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DBcgR', 'Blitz', 'anand61', 1690, 'MCozturk', 1954, 'e4,c5,Nc3,e6,g3,Qc7,Bg2,a6,d3,Ne7,f4,Ng6,Nf3,b6,O-O,Bb7,Be3,Be7,e5,O-O,Qe2,d5,exd6,Bxd6,Bf2,Nd7,Rae1,Rfe8,Ne5,Ndxe5,fxe5,Bxg2,Kxg2,Nxe5,d4,cxd4,Bxd4,Ng6,Ne4,Qc6,Kg1,Bc5,Nxc5,bxc5,Bc3,Rad8,Qf2,Rd7,Rd1,Rxd1', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/DBcgR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DBCu4', 'Rapid', 'maddin70', 1762, 'mixden', 1776, 'd4,d5,Bf4,Bf5,c3,f6,Qb3,b6,Qb5+,c6,Qa4,g5,Bg3,h5,h3,h4,Bh2,e6,f3,Bd6,Nd2,Bxh2,Rxh2,Qd6,e4,Qxh2,Ne2,Bxe4,fxe4,Qc7,O-O-O,Nd7,exd5,exd5,Qa6,Nb8,Qa4,Ne7,Re1,O-O,Qc2,Kg7,Ng1,Ng6,Be2,f5,Rf1,Qd7,Ngf3,Kh6,Ne5,Nxe5,dxe5,Qe6,Nf3,Nd7,Bd3,f4,Re1,Rae8,Nd4,Qg8,Nf5+,Rxf5,Bxf5,Rxe5,Rxe5,Nxe5,Qe2,Qg7,Bc2,Qf6,Bd1,Kg7,Bc2,f3,gxf3,Nxf3,Qd3,Kf7,Qh7+,Kf8,Qxa7,Ne5,Qxb6,Qf1+,Bd1,Qxh3', 'Qb8+,Ke7,Qxe5+', 'https://lichess.org/training/DBCu4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dBdaE', 'Rapid', 'SleepyRedRaven', 1985, 'Baseri_Borneo', 1928, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,Bc5,Bxc6+,bxc6,O-O,Bd6,d4,exd4,Nxd4,c5,Re1+,Be7,Nc6,Qxd1,Rxd1,Be6,b3,Bd6,c4,O-O,Be3,Bd7,Bxc5', 'Bxc6,Bxd6,cxd6', 'https://lichess.org/training/dBdaE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dBFIc', 'Blitz', 'ssssssssss29012901', 2019, 'sa3d_Jab', 2241, 'd4,d5,c4,Bf5,cxd5,Bxb1,Rxb1,Qxd5,Nf3,Qxa2,Bf4,c6,e4,e6,Qc2,Bb4+,Nd2,Nf6,Bc4,Qa5,O-O,O-O,Bd3,h6,Nc4,Qd8,e5,Nd5,Bc1,Be7,Qe2,Nb4,Be4,b5,Ne3,Qxd4,Ng4,f5,exf6,Bxf6,Nxh6+,gxh6,Qg4+,Kf7,Qg6+,Ke7,Bxh6,Rf7,Rbd1,Qc5,Qg8,Nd7,Qxa8,Nd5,Bxd5,cxd5,Rfe1,Bd4,Be3,Bxe3,Rxe3,Qc2,Qxd5', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/dBFIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dBHAO', 'Rapid', 'josuemartinho', 1880, 'Moin-ul-din', 1891, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Nc6,Qd2,e5,Nb3,Be6,Bd3,d5,exd5,Nxd5,Nxd5,Bxd5,O-O,Be7,Rfe1,O-O,Rad1,Be6,Qe2,Qc7,Qh5,g6,Qf3,f5,Qh3,Bf6,Bh6,Rfe8,Nc5,Bf7,Qg3,Kh8,Bg5,Bg7,Nb3,Nb4,a3,Nxd3,Qxd3,Rac8,Rd2,e4,Qd6,Qxd6,Rxd6,Rxc2,Na5,Rxb2,Rd7,Bc3,Rc1,Bxa5,Rxf7,Kg8,Rd7,Rb3,Be7,Bc3,g3,Bg7,Bb4,Rf3,Rcc7,Bb2,Rxh7,e3,fxe3,Rfxe3,Rxb7,Re2,Rbc7,Bd4+,Kf1,Rf2+,Kg1,Ra2+,Kf1,Ree2,Rhe7', 'Rf2+,Ke1,Ra1+,Rc1,Rxc1#', 'https://lichess.org/training/dBHAO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DBHjX', 'Rapid', 'BermudezBarrera', 2109, 'Selivanov_1', 1977, 'g3,d6,Bg2,Nc6,d4,e5,Bxc6+,bxc6,dxe5,dxe5,Qxd8+,Kxd8,Nf3,Bd6,Nc3,Ke7,Ne4,f5,Nxd6,cxd6,O-O,h6,h4,Nf6,b3,Ne4,Bb2,g5,hxg5,hxg5,Kg2,g4,Nh4,Bb7,Ng6+,Kf6,Nxh8,Rxh8,f3,Ng5,Rh1,Nh3,fxg4', 'c5+,Kf1,Bxh1', 'https://lichess.org/training/DBHjX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DBIDF', 'Rapid', 'chandrachess', 1709, 'Sumalamadama', 1776, 'b3,Nf6,Bb2,g6,g3,Bg7,Bg2,O-O,e3,d5,d3,Bg4,Ne2,Nc6,Qd2,Ne4,dxe4', 'Bxb2', 'https://lichess.org/training/DBIDF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dbjCQ', 'Blitz', 'Hariberg', 1629, 'G3928H', 1554, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Bf5,Nf3,e6,e3,Nbd7,Bd3,Bxd3,Qxd3,dxc4,Qxc4,Nb6,Qb3,Be7,O-O,O-O,Qc2,Nbd5,e4,Nb6,e5,Nfd5,Bxe7,Nxe7,Rfd1,Nbd5,Nxd5,Nxd5,Qc5,Qc7,b4,b6,Qc1,Rac8,Nd2,Nxb4,Nc4,Nd5,Nd6,Rcd8,Qa3,Ne7,Rac1,Nc8,Nb5,Qb7,Nd6,Nxd6,exd6,Qd7,Rb1,Ra8,Qb4,Rfd8,a4,Qxd6,Qc4,Qd5,Qa6,Rd7,Rxb6,axb6,Qxa8+,Rd8,Qb7,b5,a5,Qb3,Rf1,Qa4,a6,b4,a7,b3,Qb6,Ra8', 'Qb8+,Rxb8,axb8=Q#', 'https://lichess.org/training/dbjCQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DbJy1', 'Rapid', 'UriahHeep71', 1734, 'bluhm', 1752, 'd4,Nf6,Bf4,e6,Nc3,d6,e4,Nc6,Nf3,Be7,Bb5,Bd7,O-O,O-O,Re1,a6,Ba4,b5,Bb3,Na7,e5,Ng4,h3,Nh6,Bxh6,gxh6,exd6,Bxd6,Ne5,Be8,Qg4+,Kh8,Qf3,Rg8,Nxf7+,Bxf7,Qxf7,Qg5,g4,Raf8,Qxe6,h5,Ne4,Qf4,Nxd6,Qxf2+,Kh1,cxd6,Rf1,Qxd4,Rxf8,Rxf8,Qe7,Rc8,Rf1,d5,Qf6+,Qxf6,Rxf6,hxg4,hxg4,a5,Ra6,Rc7,Rxa5,d4,Ra6,Nc6,Ra8+,Kg7,Rg8+,Kh6,Rf8,Ne5,Rf5,Nxg4,Rd5,d3,cxd3', 'Rc1+,Kg2,Ne3+,Kf3,Nxd5', 'https://lichess.org/training/DbJy1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DBk8M', 'Blitz', 'zsitumorang', 1768, 'MarkJosephZamora', 1688, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,e5,Ne4,d4,g6,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/DBk8M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dBkgV', 'Rapid', 'IngeN59', 1879, 'CM Sjakkerntobi', 2285, 'c4,c5,Nc3,g6,g3,Bg7,Bg2,Nc6,e3,d6,Nge2,Bf5,O-O,Qd7,d4,cxd4,exd4,Bh3,Re1,Bxg2,Kxg2,h5,d5,Ne5,b3,h4,Bf4,hxg3,Bxg3,Qh3+,Kh1,Nf3,Nf4,Qxh2+,Bxh2', 'Rxh2#', 'https://lichess.org/training/dBkgV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dbLru', 'Rapid', 'sauceGodJR', 1961, 'lapicosa', 1908, 'd4,d5,c4,dxc4,Nc3,e5,d5,Bb4,Nf3,e4,Ng1,Bg4,Bf4,h6,h3,Bh5', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/dbLru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dbLrx', 'Blitz', 'IM zuluagazo', 2481, 'elcancherito', 2406, 'd4,d6,Nf3,f5,c4,Nf6,Nc3,g6,d5,Bg7,h3,e5,dxe6,Bxe6,Nd4,Bf7,e3,O-O,Be2,Nbd7,Rb1,a5,O-O,Nc5,b3,Re8,Bb2,Nfe4,Bf3,a4,Qc2,axb3,axb3,Nxc3,Bxc3,Ne4,Bxe4,Rxe4,Ra1,Rxa1,Rxa1,c6,Ne2,d5,Bxg7,Kxg7,Nc3,Re7,c5,b6,b4,bxc5,bxc5,Rb7,Ne2,Qf6,Nd4,f4,Qc3,fxe3,fxe3,Re7,Rf1,Qe5,Rf3,Be8,Qe1', 'Qxd4,exd4,Rxe1+', 'https://lichess.org/training/dbLrx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DBnFM', 'Blitz', 'MarkisTew1', 1962, 'slow1984', 2001, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nc6,d5,exd5,exd5,Qe7+,Be2,Nb4,a3,Na6,Nf3,d6,O-O,Bg4,Bxa6,bxa6,Re1,Be6,Bg5,Nf6,Qa4+,Kd8,Bxf6,Qxf6,Qa5+,Kc8,Rc1+,Kd7,Qc7+,Ke8,Qc6+,Bd7,Qxa8+,Ke7,Re1+,Be6,Qxa7+,Kd8,Qb6+,Kd7,Qc6+,Kd8,dxe6,fxe6,Qa8+,Kd7,Qxa6,Be7,Qb7+,Ke8,Rc1,Kf7,Rc8,Qxb2,Rxh8', 'Qc1+,Ne1,Qxe1#', 'https://lichess.org/training/DBnFM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DbNTn', 'Rapid', 'vania92', 2079, 'C3PO_FF', 2098, 'd4,Nf6,e3,e6,h3,d5,a3,c5,c3,Nc6,Nf3,b5,Bxb5,Bb7,Ne5,Rc8,Qa4,Qc7,Bxc6+,Bxc6,Nxc6,Qxc6,Qxc6+,Rxc6,O-O,Bd6,Nd2,O-O,b4,c4,Bb2,Rb6,Rae1,a5,Bc1,axb4,axb4,Ra8,e4,Be7,e5,Nd7,Nf3,Ra3,Bd2,Nb8,Re3,Nc6,Bc1,Ra8,Bb2,Rba6,b5,Ra2,Rb1,Na5,Nd2,Bg5,Bc1,Bxe3,fxe3,Nb3,Nxb3,cxb3,Rxb3,Ra1,b6,Rxc1+,Kf2,Rc2+,Kf3,Rb8,g4,f5,exf6,gxf6,e4,dxe4+,Kxe4,Kf7,b7,Re2+,Kf3,Rh2,Kg3,Re2,c4,e5,dxe5,fxe5,Kf3,Rc2,Rb4,Ke6,Ke4,Kd6,h4,Kc5,Rb5+,Kxc4,Rb6,Kc5,Re6,Re2+,Kf3,Re1,Re7,h6,Kf2,Re4,Kf3,Kd4', 'Rd7+,Kc5,Kxe4', 'https://lichess.org/training/DbNTn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dBOXk', 'Blitz', 'FM gerasimenyuk', 2164, 'HPtiger', 2136, 'd4,d5,Nf3,e6,Bg5,Be7,h4,h6,Bf4,Nf6,e3,c5,c3,Nc6,Nbd2,cxd4,exd4,a6,Bd3,b5,Qe2,Bb7,Ne5,Nxe5,Bxe5,O-O,g4,Nd7,g5,Nxe5,Qxe5,h5,g6,f5,Qxe6+,Kh8,Qe2,Bg5,Qxh5+,Bh6,O-O-O,Qf6,f4,Rae8,Nf3,Kg8,Ne5,Bxf4+,Kc2,Bh6,Nf7,Rxf7,gxf7+,Qxf7,Qxf7+,Kxf7,Bxf5,Re2+,Kd3,Rxb2,Rhf1,Kg8,Bg6,Bc6,Rfe1,b4,Re6', 'Bb5+,c4,Bxc4#', 'https://lichess.org/training/dBOXk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dbp2C', 'Rapid', 'leebers', 1826, 'Danyoet', 1826, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Nxd4,c5,Nf3,a6,O-O,Nc6,Re1,Be6,Bxe6,fxe6,Nc3,Nf6,e5,dxe5,Nxe5,Nxe5,Rxe5,Qxd1+,Nxd1,Rd8,Rxe6+,Kf7,Re1,c4,Be3,Bb4,c3,Ba5,Bd4', 'Rxd4,cxd4,Bxe1', 'https://lichess.org/training/dbp2C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DBPDa', 'Rapid', 'tigrao3', 1918, 'Sputnik_Monroe', 2005, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,h3,b6,Qe2+,Be7,Nf3,O-O,O-O,c5,c3,Be6,Bf4,Nc6,Nbd2,c4,Bc2,b5,a3,a5,Rfe1,Qd7,Ne5,Qb7,Ndf3,Rfe8,Nxc6,Qxc6,Ne5,Qb7,Nxf7,Bxf7,Be5,Bd6,Qf3,Bxe5,dxe5,Ne4,Qf4,Be6,Bxe4,dxe4,Rxe4,Bd5,Re3,Re6,Rae1,Qf7,Qd4,Bc6,f4,Rf8,Rf1,Qd7,Qxd7,Bxd7,f5,Re7,e6,g6,Rg3,Be8,h4,h6,h5,g5,Re3,Kg7,g4,Kf6,Rd1,Bc6,Rd6,Rc8,Kf2,Be8,Kf3,Rc6,Rd8,Rc5,Ke4,Re5+,Kd4,Rxe3,Kxe3,Ke5,Rb8,a4,Rb6,Bxh5', 'Rxb5+,Kf6,gxh5', 'https://lichess.org/training/DBPDa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dbQ7P', 'Blitz', 'muadib42', 1713, 'arielo94', 1715, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Nb5,Bxe3,fxe3,Qh4+,g3,Qxe4,Nxc7+,Kd8,Nxa8,Qxh1,Qd6,Qxh2,Qc7+,Ke8,Nd2,f6,O-O-O,Kf7,Bc4+,d5,Bxd5+,Kg6,Bxc6,Nxc6,Qf4,Ne5,Ne4,Bf5,Nd6,Nd3+,Rxd3,Bxd3', 'Qg4+,Kh6,Nf7#', 'https://lichess.org/training/dbQ7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dBQHf', 'Blitz', 'Drjava', 1773, 'm8059', 1818, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Qe2,d5,Bb3,Bc5,O-O,O-O,Nxe5,Nc6,Nxc6,bxc6,d3,Nxf2,Rxf2,Bxf2+,Qxf2,a5,a3,a4,Ba2,Rb8,Nc3,f5,Nxa4,f4,Nc5,f3,g3,Qf6,d4,Re8,Be3,Rxb2,Nd3,Rb8,Ne5,Ba6,Bf4,Be2,c4,Rb2,cxd5,cxd5,Bxd5+,Kh8,Nf7+,Kg8,Nd6+,Kf8,Nxe8,Kxe8,Qe3+,Kd8,Bxc7+,Kxc7,Qc3+,Kd6,Qxb2', 'f2+,Kg2,f1=Q+,Rxf1,Qxf1#', 'https://lichess.org/training/dBQHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dBqti', 'Classical', 'kobokopo', 1729, 'sohibvoxidov', 1800, 'Nf3,d5,e4,Nf6,exd5,Nxd5,d4,a6,Bd2,Nc6,Nc3,Bg4,Bc4,Bxf3,Qxf3,Nxd4,Qd1,Nb4,O-O,e6,a3,Nbc6,Be3,Bd6,Bxd4,Nxd4,g3,Nf5,Re1,O-O,Qh5,Nh6,Rad1,Qe7,Bd3,b5,Re4,f5,Ree1,Ng4,Bxf5,Rxf5,Qxf5', 'exf5,Rxe7,Bxe7', 'https://lichess.org/training/dBqti');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DBqXz', 'Bullet', 'kiranep77', 1658, 'Mehioch', 1561, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,c5,dxc5,Bxc5,Qc2,Be7,Nf3,h6,Bh4,O-O,e3,d5,cxd5,Nxd5,Bxe7,Nxe7,Bd3,Nd7,O-O,Nf6,Rfd1,Qc7,Rac1,Qa5,a3,Ned5,Nxd5,Nxd5,Qb3,b6,Bb1,Bb7,Qd3,Nf6,Ne1,Rfd8,Qc2,Rxd1,Rxd1,Qg5,f3,Qxe3+,Kh1,Rc8', 'Qxc8+,Bxc8,Rd8+,Ne8,Rxe8#', 'https://lichess.org/training/DBqXz');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 11;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet12 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DbtfJ', 'Blitz', 'Chessindian', 2122, 'fumingc', 1938, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,Nf6,Be2,O-O,O-O,d6,Nb3,Be6,f4,Qc8,Kh1,Rd8,Bf3,Bg4,Nd5,Bxf3,Qxf3,e6,Nxf6+,Bxf6,f5,exf5,exf5,Rf8,Bh6,Bg7,Bxg7,Kxg7,f6+,Kh8,Qf4,Qe6,Qh6,Rg8,Rf4,Rae8', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/DbtfJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dBtyt', 'Blitz', 'joeluchoa', 1591, 'MasterRodrigo', 1648, 'e4,c5,f4,d6,Nf3,Nf6,Nc3,g6,d4,cxd4,Nxd4,Bg7,Bc4,e6,O-O,d5,exd5,exd5,Nxd5,Nxd5,Re1+,Be6,Rxe6+', 'fxe6,Nxe6,Qb6+,Kh1,Qxe6', 'https://lichess.org/training/dBtyt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DBuKB', 'Rapid', 'FaineantFini', 1873, 'rePier', 1875, 'e4,e5,Bc4,Bc5,Nf3,d6,O-O,Qe7,c3,Nc6,d4,exd4,cxd4,Bb6,Nc3,Nf6,e5,dxe5,dxe5,Ng4,Bg5,f6,exf6,gxf6,Re1', 'Bxf2+,Kf1,Bxe1', 'https://lichess.org/training/DBuKB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dBWTy', 'Blitz', 'Trukmich', 1918, 'Mariaa', 1863, 'd4,e6,Bf4,Nf6,Nf3,h6,e3,a6,c4,c5,dxc5,Bxc5,Bd3,Qa5+,Nc3,Nc6,O-O,O-O,a3,Qb6,Qc2,d5,cxd5,exd5,b4,Be7,Ne5,d4,Nxc6,bxc6,exd4,Qxd4,Be3,Qg4,Be2,Qg6,Qxg6,fxg6,Rad1,a5,Rd2,axb4,axb4,Bxb4,Rc1,Ra3,Rdc2,c5,h3,Bf5,Bc4+,Kh8,Bxc5,Bxc5,Re2,Rfa8,Nb5,Ra1,Rxa1,Rxa1+,Kh2,Rc1,Bf7,Bd3,Rb2,Bxf2,Nd6,Bg1+,Kg3,Nh5+,Kg4,Rc5,Rb8+,Kh7,Bg8+,Kh8,Bd5+,Kh7', 'Bg8+,Kh8,Nf7#', 'https://lichess.org/training/dBWTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DbyVa', 'Rapid', 'Olvin1980', 2026, 'EarthLand', 1976, 'e4,c5,Nf3,Nc6,c3,d5,d4,dxe4,Ng5,cxd4,Nxe4,dxc3,Bd3,cxb2,Bxb2,f6,O-O,e5,Qb3,Nge7,Bc4,Qb6,Bf7+,Kd8,Rd1+,Kc7,Qd3,Bf5,Qd6+,Kc8,Bd5,Ng6', 'Be6+,Bxe6,Qxe6+', 'https://lichess.org/training/DbyVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dbywv', 'Blitz', 'Dear-Santa-Claus', 2279, 'sgphwelz', 2217, 'b3,e5,Bb2,Nc6,e4,Nf6,Nc3,Bc5,Bc4,d6,Nf3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd3,c6,a4,O-O,O-O,a6,Rfe1,b5,axb5,axb5,Nxb5,cxb5,Bxb5,Rxa1,Bxa1,Nxb5,Qxb5,Qa8,Bxe5,Bxf2+,Kxf2,Nxe4+,Kg1,dxe5,d3,Qa7+,Kh2,Nf6,Qxe5,Qf2,Re2,Qh4,Kh1,h5,c3,Re8,Qxe8+,Nxe8,Rxe8+,Kh7,Re5,f6,Rc5,Qe1+,Kh2,Qd1,d4,g6,b4,h4,b5,g5,b6,Qb1,Rc6,f5,Rc7+,Kh6,b7,g4,hxg4,fxg4,c4,Qf5,b8=Q', 'g3+,Kg1,Qf2+,Kh1,Qe1#', 'https://lichess.org/training/Dbywv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DC0uF', 'Blitz', 'Pavan1915', 1711, 'elmoreno627', 1724, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,Bg4,Be3,Nc6,Bc4,Nf6,h3,Bxf3,Qxf3,O-O,O-O-O,Qe8,e5,dxe5,dxe5,Nxe5,Qf4,Nxc4,Qxc4,c6,Ne4,Nd5,g4,Nxe3,fxe3,Rd8,h4,Rxd1+,Rxd1,Qb8,h5,Qe5,hxg6,Qxb2+,Kd2,Rd8+,Ke2,Rxd1', 'Qxf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/DC0uF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dc2rL', 'Rapid', 'Dave2336', 1608, 'brendanashworth', 1787, 'e4,c5,Nf3,d6,c3,Nf6,d3,Bg4,Nbd2,g6,h3,Bd7,d4,Bg7,d5,O-O,c4,Qb6,Rb1,e6,b3,Re8,a4,exd5,cxd5,Qb4,Bd3,Nxe4,O-O,Nc3,Qc2,Nxb1,Nxb1,Na6,Ng5,Nc7,Bc4,Re7', 'Bd2,Qb6,a5', 'https://lichess.org/training/dc2rL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dC3ed', 'Blitz', 'kazeriahm', 2214, 'kudo555', 1691, 'g4,b6,Bg2,Nc6,d4,Bb7,d5,Nb4,a3,Na6,c4,Nc5,b4,Na6,Nc3,g6,Bb2,Bg7,e4,Nf6,h3,e6,Nge2,exd5,cxd5,O-O,Qd2,Re8,O-O-O,d6,f4,c5,b5,Nc7,Kb1,a6,a4,axb5,axb5,Qd7,Qd3,Ra5,e5,dxe5,fxe5,Rxe5,Ne4,Rxe4,Bxe4,Nxb5,Bg2,Nd6,Rhf1,Nde8,Qc3,Qa4,d6,Bxg2,d7,Qa2+,Kc1,Be4,dxe8=Q+,Nxe8', 'Qxg7+,Nxg7,Rd8+,Ne8,Rxe8#', 'https://lichess.org/training/dC3ed');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dc3lq', 'Blitz', 'fedor7rnv', 1908, 'AfrikanBoeitjie', 1903, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Nf6,Bg5,Be7,Be2,O-O,O-O,Nd4,Nc4,b5,Ne3,Nxe2+,Qxe2,Bb7,Ncd5,Nxd5,Bxe7,Nxe7,Rad1,Bxe4,Ng4,Bd5,b3,Be6,Nxe5,Qb6,Nd3,Rac8,Nf4,d5,Rfe1,Rc6,c4,bxc4,bxc4,dxc4,Rb1,Qc5,Rb7,Nd5,Nh5,c3,Qe5,f6,Rxg7+,Kh8,Qg3,c2', 'Rxh7+,Kxh7,Qg7#', 'https://lichess.org/training/Dc3lq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dcAdC', 'Blitz', 'hungnguyenduc', 1538, 'Leyon', 1658, 'e4,e6,Nf3,b6,d4,Bb7,d5,exd5,exd5,d6,Bb5+,c6,dxc6,Bxc6,Bxc6+,Nxc6,O-O,Be7,Re1,Nf6,Nc3,O-O,Nd5,Nxd5,Qxd5,Nb4,Qc4,a5,a3,Na6,Qg4,Bf6,Bg5,Bxg5,Nxg5,Nc5,Rad1,Ne6,Nxe6,fxe6,Qxe6+,Rf7,Rxd6,Qf8,Rxb6,a4,Rd6,Rb8,Rd7,Rxb2,c4,Rc2,f3,h6,h3,Ra2,Re3,Rc2,Kh2,Rc1,Kg3,Qb8+,Kg4', 'Qf4+,Kh5,Qg5#', 'https://lichess.org/training/dcAdC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DCagF', 'Rapid', 'Strbo47', 2026, 'Taubenblau', 1998, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Nf6,h3,Bh5,O-O,Nc6,c3,e6,Bg5,h6,Bh4,Bd6,Nbd2,Qc7,c4,g5,c5,Bxc5,Nxg5,Bxe2,Qxe2,Rg8,Ngf3,Nxd4,Nxd4,Bxd4,Rac1,Qf4,Nf3,Ne4', 'Qb5+,Kf8,Qb4+,Kg7,Qxd4+', 'https://lichess.org/training/DCagF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dCAT0', 'Blitz', 'FilStr', 1783, 'Phillker', 1977, 'e4,e6,Nf3,g6,d4,Bg7,e5,Ne7,Nc3,d6,Bf4,dxe5,Bxe5,Bxe5,Nxe5,O-O,Qg4,Nd7,O-O-O,c6,Bd3,Nd5,Ne4,f5,Qg3,fxe4,Bxe4,Nxe5,dxe5,Qb6,Bxg6,Kh8,Qd3,Nf4,Qe4,Nxg6,Rd3,Qxf2,Rf3,Rxf3,gxf3,Bd7,Rd1,Rd8,Qd3,Nxe5,Qe4,Nxf3,b3,Ng5', 'Qe5+,Kg8,Qxg5+,Kf7,Qxd8', 'https://lichess.org/training/dCAT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dccPJ', 'Rapid', 'pipe2910', 1876, 'cironine999', 1939, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,Bb5,Bd7,d4,Nxe5,Bxd7+,Nxd7,Qa4,cxd4,Nxd4,Bc5,Be3,Qb6,b4,Bxd4', 'Bxd4,Qd8,Bxg7,Qg5,Bxh8,Qxg2,Rf1', 'https://lichess.org/training/dccPJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DCDVG', 'Rapid', 'Scorpio_Illusion', 1826, 'chrkl', 1859, 'Nf3,d5,e4,dxe4,Ng5,Nf6,Bc4,e6,Nc3,Bd6,Qe2,O-O,O-O,h6,Ngxe4,Nxe4,Nxe4,Nc6,c3,Ne5,Bb3,Ng6,d4,Qh4,Ng3,Qe7,f4,b6,Bc2,Bb7,Be4,Bxe4,Nxe4,c5,Nxd6,Qxd6,Be3,cxd4,Bxd4,Ne7,Qg4,Nf5,Be5,Qc5+,Kh1,f6,Bd4,Nxd4,cxd4,Qd5,Rfe1,f5,Qd1,Rf6,Re5,Qb7,Qb3,Rg6,Rg1,Re8,Qb5,Qf7,d5,Rd8,Rge1,Rxd5,Rxd5,exd5,Re5,Rd6,Qd3,g6,Qe2,Rd7,Re8+,Kg7', 'Qe5+,Qf6,Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/DCDVG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dceQP', 'Classical', 'SiyrgiyTev', 1729, 'guillezz', 1704, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,Be7,d3,h6,Bf4,c6,Bc4,Nf6,e5,Nh7,Nd2,a5,a3,d5,Ba2,O-O,Nf3,Bg4,h3,Bh5,g4,Ng5,gxh5', 'Nxh3+,Kh1,Nxf4', 'https://lichess.org/training/dceQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dcfIf', 'Classical', 'ChessLogic0906', 2101, 'ChesSs___MaTe___15', 2101, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,e3,c6,Nf3,Qa5,Nd2,h6,Bxf6,Nxf6,Bd3,dxc4,Nxc4,Qc7,O-O,Nd5,Rc1,Bb4,Ne5,Nxc3,bxc3,Bd6,Nc4,Bxh2+,Kh1,Bd6,Qg4,O-O,f4,e5,f5,exd4,cxd4,Qe7,e4,Bc7,e5,Qg5,Qxg5,hxg5,Rf3,f6,e6,Rd8,e7,Re8,Re1,Kf7,Rfe3,b5,a4,Ba6,Na3,Bd6,axb5,Bxb5,Bxb5,cxb5,Nxb5,Bf4,Re6,a6,Na3,Ra7,Kg1,Raxe7,d5,g6', 'fxg6+,Kxg6,Rxe7', 'https://lichess.org/training/dcfIf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dcGmY', 'Rapid', 'yyyyw', 1752, 'Pahan77', 1810, 'd4,d5,c4,c6,Nc3,dxc4,e4,b5,b3,cxb3,axb3,e6,e5,Bb4,Bb2,Ne7,Nf3,Nd5,Rc1,O-O,Be2,Nxc3,Bxc3,Bxc3+,Rxc3,a5,O-O,Ba6,Rc5,Qc7,Qc2,h6,Rd1,b4,Bf1,Bxf1,Kxf1,Ra6,d5,exd5,Rdxd5,Nd7,Rc4,Nb6', 'Rxc6,Nxd5,Rxc7', 'https://lichess.org/training/dcGmY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DChUl', 'Rapid', 'd4c6', 1608, 'charliegrimmett', 1706, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,Qc2,Nbd7,Bg5,c5,a3,Bxc3+,bxc3,dxc4,e3,Qc7,Bxc4,Nb6,Bb3,c4,Ba2,Nfd5,e4,Ne7,O-O,O-O,Nd2,Ng6,Be3,f5,e5,f4,Nxc4,Nxc4,Bc1,f3,gxf3,Rxf3,Qe2,Nh4,Bxc4,Qf7,Bg5,Qg6,Qd2,b5,Bd3,Qxd3,Qxd3,Rxd3,Bxh4,Bb7,Rac1,Rf8,Bg3,Rf5,f4,g5,Kf2,gxf4,Ke2,Re3+,Kd2,Be4,Rxf4,Rd3+,Ke2,Rxf4,Bxf4,Rh3,Bg3,a5,Rf1,Bd5,Rf4,Rh6,Rg4+,Rg6,Rxg6+,hxg6,Ke3,Kg7,Kf4,Kh6,Bh4,Kh5,Bf6,Bc4,Be7,Bd3,Bd8,b4,axb4', 'a4,Ke3,a3,Kxd3,a2', 'https://lichess.org/training/DChUl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DCi80', 'Blitz', 'snickelfritz', 1561, 'leantwig', 1602, 'd4,Nf6,Bf4,d6,Nc3,g6,e3,Bg7,Nf3,O-O,Bc4,Qe8,Qe2,Nbd7,O-O-O,e5,dxe5,dxe5,Bg5,e4,Nh4,h6,Bxf6,Nxf6,g3,g5,Ng2,Bh3,f4,Bg4,Qf2,Bxd1,Rxd1,Ng4,Qg1,Rd8,h3,Nf6,fxg5,hxg5,h4,Rxd1+,Nxd1,Qc6,Bb3,gxh4,gxh4,Bh6,Nf4+,Kh7,Nh3,Rg8,Qf2,Qc5,Nf4,Ng4,Qd2,Bxf4,exf4,e3,Qd3+,Kh8,Bxf7,Rg7,Qd8+,Kh7,Bd5,e2,Be4+,Kh6', 'Qh8+,Rh7,Qxh7#', 'https://lichess.org/training/DCi80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dcI8Z', 'Rapid', 'farshad28', 1733, 'pmatti', 1766, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,g6,O-O,Nbd7,Qf3,Ne5,Qg3,Nxd3,cxd3,Bg7,Qe3,O-O,f4,Ng4,Qe2,Bxd4+,Kh1,Bxc3,bxc3,Nf6,f5,Nh5,Bh6,Ng7,fxg6,fxg6,d4,Bd7,c4,b5,d5,bxc4,Qb2,e5,dxe6,Nxe6', 'Rxf8+,Qxf8,Bxf8', 'https://lichess.org/training/dcI8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DciBE', 'Classical', 'Wiz017', 1736, 'pipom', 1743, 'd4,d5,c4,dxc4,e3,Nc6,Bxc4,e6,Nf3,Nf6,O-O,Bd6,Nc3,O-O,e4,e5,Bg5,Bg4,h3,Bh5,g4,Bg6,Bb5,h6,Bxf6,Qxf6,Bxc6,bxc6,dxe5,Bxe5,Nxe5,Qxe5,f4,Qc5+,Rf2,Rad8,Qa4,Rd4,Qc2,Rfd8,f5', 'Rd2,Qxd2,Rxd2', 'https://lichess.org/training/DciBE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dCIMy', 'Blitz', 'Darkest_Moment', 2011, 'xy-Math', 1879, 'e4,Nf6,Nf3,Nxe4,Nc3,d5,d4,Bf5,Bd3,e6,a3,Be7,O-O,O-O,Ne5,c5,f3,Nxc3,bxc3,Bxd3,Qxd3,f6,Ng4,c4,Qe2,Qd6,a4,Na6,Ba3,Qd7,Bxe7,Qxe7,Rae1,Nc7,Ne3,e5,Nf5,Qe6,Ng3,Rae8,dxe5,fxe5,Qd2,Qb6+,Kh1,d4,cxd4,exd4,Qg5,d3,cxd3,cxd3,Nf5,Qf6,Ne7+,Rxe7', 'Qxf6,Rxe1,Qxf8+,Kxf8,Rxe1', 'https://lichess.org/training/dCIMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DciSU', 'Classical', 'Peluso', 1650, 'poujou', 1680, 'e4,g6,d4,Bg7,Nf3,c5,dxc5,Qa5+,Nbd2,Qxc5,Bd3,Qb6,O-O,Nc6,Rb1,Nf6,e5,Ng4,Qe2,Ncxe5,Nxe5,Nxe5,b3,O-O,Nc4,Nxc4,Bxc4,d5,Be3,Qe6,Bb5,a6,Bd3,d4,Bc4,Qe4,Bd3,Qd5,Bf4,e5,Bg3,b5', 'Be4,Qd6,Bxa8', 'https://lichess.org/training/DciSU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dCjBK', 'Rapid', 'cricri23', 1880, 'pimp9000', 1883, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Nh6,h3,Nf5,dxc5,Bxc5,O-O,O-O,Nbd2,Qc7,Nb3,Be7,Bb5,Nxe5,Nxe5,Qxe5,Re1,Qc7,Qf3,a6,Bd3,Nh4,Qh5,Ng6,Nd4,e5,Nf5,e4,Be2,Bc5,Qg5,Qe5,Bg4,h6,Qh5,Nf4', 'Nxh6+,gxh6,Qxe5', 'https://lichess.org/training/dCjBK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DCjpH', 'Rapid', 'jthurman', 1825, 'Frangoxadrez', 1812, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Nf6,Nc3,Bb4,O-O,O-O,a3,Ba5,b4,Bb6,b5,Na5,Nxe5,d6,Nf3,Nxc4,dxc4,Re8,Nd5,Nxe4,Be3,Bxe3,fxe3,Be6,Nd4,Bxd5,cxd5,Qg5,Qf3,Nf6,Rae1,Re5,Qh3,Rxd5,c4,Re5,Nf3,Rxe3', 'Nxg5,Rxh3,Nxh3', 'https://lichess.org/training/DCjpH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dcjt1', 'Rapid', 'FraGer68', 2554, 'martin1011', 2006, 'c4,c6,Nf3,d5,e3,e6,b3,Nf6,Nc3,Be7,Bb2,O-O,d4,Nbd7,Bd3,b6,O-O,Bb7,Rc1,Re8,Qe2,Bd6,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bb1,Qe7,c5,bxc5,dxc5,Bc7,Be5,Rad8,Rfd1,Rxd1+,Rxd1,Rd8,Bxc7,Qxc7,Rxd8+,Qxd8,b4,Ba6', 'Qxa6,Qd1+,Qf1', 'https://lichess.org/training/Dcjt1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dCkaS', 'Rapid', 'MIKIBOAR', 1973, 'BearsLoveVodka', 1984, 'Nf3,c6,c4,d5,cxd5,cxd5,g3,Bg4,Bg2,e6', 'Qa4+,Qd7,Qxg4', 'https://lichess.org/training/dCkaS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DCkKp', 'Rapid', 'SERASKER', 1758, 'Israelhtr', 1763, 'e3,e5,Qh5,Nc6,Bc4,d5,Bb5,e4,Nc3,Nf6,Qd1,Bd7,d3,Bb4,Bd2,a6,Bxc6,Bxc6,dxe4,Bxc3,Bxc3,Nxe4,Bxg7,Rg8,Bd4,Rxg2,Qh5,Nxf2,Qxh7,Nxh1,Qh8+,Kd7,Qh3+,f5,Qxg2,Qh4+,Ke2,Bb5+,Kd2,Nf2,Qxd5+,Ke7,Qxb7,Rd8,Qxc7+,Rd7,Qc5+,Kd8,Qf8+,Kc7,Qxf5,Ne4+,Kd1,Rxd4+,exd4,Nf2+,Kd2,Qxd4+,Ke1', 'Qe3+,Ne2,Qxe2#', 'https://lichess.org/training/DCkKp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dcLtb', 'Rapid', 'CASPERKAB', 1761, 'HBaran', 1807, 'd4,d5,c4,c6,Nc3,h6,e3,Nf6,Nf3,Bf5,Qb3,b6,cxd5,cxd5,Bb5+,Bd7,Nxd5,Bxb5,Nxf6+,gxf6,Qxb5+,Nd7,O-O,Bg7,e4,O-O,Qf5,e6,Qg4,f5,exf5,Qf6,fxe6,fxe6,Ne5,Rad8,Re1,Qf5,Qg3,Nf6,Bxh6,Nh5,Qh4,Bxh6,Nc6,Rde8,Ne7+,Rxe7,Qxe7,Qxf2+,Kh1,Ng7,Qd6,Be3,h3,Bxd4,Rf1', 'Qxf1+,Rxf1,Rxf1+,Kh2,Bg1+', 'https://lichess.org/training/dcLtb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dcNXB', 'Blitz', 'LordRook', 2077, 'mhabib', 2208, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,a4,b4,d4,Nxd4,Bxf7+,Rxf7,Nxe5,Nc6,Nxf7,Kxf7,e5,Ne8,Qd5+,Kf8,Re3,g6,Rf3+,Kg7,Qf7+,Kh8,Bh6,Nxe5', 'Qf8+,Bxf8,Rxf8#', 'https://lichess.org/training/dcNXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dCoyz', 'Classical', 'Elixim', 1910, 'ajedrezclavado', 2086, 'd4,Nf6,Bg5,d5,Nf3,c5,c3,Ne4,Bh4,Qb6,Qc1,Bg4,Nbd2,Bxf3,Nxf3,cxd4,Nxd4,e5,Nf3,Nd7,e3,f6,Bd3,Ndc5,Bc2,h5,Bg3,g5,h4,g4,Nd2,Nxg3,fxg3,Bh6,Bg6+,Ke7,b4,Nd3+,Bxd3,Qxe3+,Be2,Rac8,Qb2,Qxg3+,Kd1,Rhd8,Qc2,Rxc3', 'Qh7+,Kd6,Qxh6', 'https://lichess.org/training/dCoyz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dcPI5', 'Blitz', 'elzurdo', 2540, 'NM Chess-Network', 2673, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,c4,Nc6,Nc3,Bg4,Be2,e6,cxd5,Nxd5,O-O,Be7,h3,Bh5,Qb3,Nxc3,bxc3,Qc7,Rb1,b6,Be3,O-O,Qa4,Bg6,Rbc1,Bh5,c4,Na5,c5,Qd8,Rfe1,h6,Bd2,Rc8,Ne5,Bxe2,Rxe2,Qd5,Bxa5,bxa5,Qxa5,Qxd4,c6,Bd6,Rc4,Qd5,Qxd5,exd5,Rd4,Bxe5,Rxe5,Rxc6,Rexd5,Ra6,a4,Re8,Rd6,Re6,Rd8+,Kh7,R8d7,Rf6,f4,Ra5,g4,Raa6,h4,Rab6,Kf2,Rb3,g5,hxg5,hxg5,Rc6,f5,Rh3,Kg2,Rh5,Rxf7,Rxg5+,Kf3,Ra6,Rf8,Rh5,Kg4,Rh1,Rdd8,Rg1+,Kf3,Kh6,Rd7,Rf6', 'Rh8+,Kg5,Rxg7+,Kxf5,Rxg1', 'https://lichess.org/training/dcPI5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dCPkZ', 'Blitz', 'nochess4u_Sir', 2336, 'blurryflexible', 2324, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,c6,Bd3,Nbd7,Qc2,Nh5,Bxe7,Qxe7,O-O-O,g6,g4,Ng7,Nf3,Nf6,h3,h5,Ne5,Nd7,f4,Nxe5,dxe5,O-O,Rhg1,b5,Kb1,b4,Na4,a5,Rc1,Rd8,Nc5,a4,Qe2,d4,gxh5,dxe3,hxg6,Rxd3,Nxd3,fxg6,Rxg6,Bf5,Rg5,Rd8,Rd1,c5,Ka1,c4,Nc1,Rxd1,Qxd1,a3,bxa3,bxa3,Qd5+,Kh7,Qxc4,Qb7,Qb3,Qe4,h4', 'Qd4+,Qc3,Qxc3#', 'https://lichess.org/training/dCPkZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dcs3P', 'Rapid', 'Patzmaschine', 2381, 'petka', 1903, 'e4,d5,exd5,e5,dxe6,Bxe6,Nf3,Bc5,d4,Bd6,c4,c6,Nc3,Nf6,Bg5,h6,Bh4,Be7,Qb3,b5,d5,cxd5,Qxb5+,Nbd7,cxd5,Rb8,dxe6,Rxb5,exd7+,Nxd7,Bxb5,Bxh4,O-O-O,O-O,Nxh4,Qxh4,g3,Qg5+,f4,Qf6,Bxd7,g5,Rhf1,Rb8,Rd2,Qe7,Nd5,Qc5+,Kb1,Qa5,Rfd1,Qd8,f5,Rb7,f6,Kf8,Bf5,Qa5,Ne7,Rb8,Nc6,Qxf5+,Ka1,Re8,Rd6,Kg8', 'Ne7+,Kh7,Nxf5', 'https://lichess.org/training/Dcs3P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dcuJP', 'Classical', 'austro', 1766, 'Yellow_Diamond86', 1791, 'Nf3,d5,d4,Nf6,g3,e6,Bg2,c5,c3,Nc6,e3,Bd6,O-O,O-O,Re1,b6,Nbd2,Re8,e4,dxe4,Nxe4,Nxe4,Rxe4,Bb7,Re1,Qf6,Bg5,Qf5,Qd2,h6,Be3,Na5,Nh4,Qf6,Nf3', 'Bxf3,Bxf3,Qxf3', 'https://lichess.org/training/dcuJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dCv3j', 'Rapid', 'chevdar1', 1992, 'XplosionKibosh', 2089, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Nc6,c3,e5,Be3,exd4,Bxd4,Nxd4,Qxd4,Qxd4,cxd4,Bb4+,Kd1,O-O,a3,Ba5,Bd3,Rd8,Ne2,Bg4,f3,Be6,Kc2,Rac8,Rac1,Bb6,Rhd1,g6,Kb1,c6,Bc4,Bd5,Nf4,Bxc4,Rxc4,Bc7,g3,Bxf4,gxf4,Rd5,Kc2,Rc7,Kc3,Rcd7,b4,a6,Rc5,Kg7,Rxd5,Rxd5,Re1,Rf5,Re4,b5,Kd3,Rd5,Re5,Rd6,Rc5,f6,h4,Kf7,Ke4,Ke6,Ke3,h6,Ke4,f5+,Ke3,Kf6,Re5,g5,fxg5+,hxg5,hxg5+,Kxg5,f4+,Kg4,Re8,Rg6,Rh8,Kg3,Rh5,Kg4,Rh1,Re6+,Kd3,Kxf4,Rf1+,Kg4,Rg1+,Kf4,Rf1+,Kg5,Rg1+,Kf6,Rf1,Kg6,Rg1+,Kh5,Rf1,Kg4,Rg1+,Kf4,Rf1+,Kg5,Rg1+,Kf6,Rf1,Re4,Rf3,Rh4,Ke3,Kg5,Kd3,Kg4,Ke3,Rh1,Rf4+,Kg5,Rf3,Ra1,Kd2,Ra2+,Kc1,Kg4,Rc3,f4,Rxc6,f3,Rg6+,Kf4,Rf6+,Ke4,d5,f2,d6,Kd3', 'd7,f1=Q+,Rxf1,Ra1+,Kb2,Rxf1,d8=Q+', 'https://lichess.org/training/dCv3j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dcvjx', 'Blitz', 'Mohammed_ahmed2020', 1687, 'Malkmustafa', 2151, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,Nc3,Bc5,d3,Bg4,O-O,O-O,h3,Bxf3,Qxf3,h6,Be3,Qe7,a3,a5,Na4,Bd4,Bxd4,exd4,c3,b5,e5,Nd5,c4,bxa4,cxd5,Qxe5,dxc6,Rab8,Rab1,Rfe8,Rfe1,Qxe1+,Rxe1,Rxe1+,Kh2,Rxb2,Qd5,Rxf2,Qxd4,Ree2,Qd8+,Kh7,Qxc7,Rxg2+,Kh1,Rgf2,Kg1,Rc2,Qd7,g6,c7,Rfd2,Qxf7+,Kh8,Qe8+,Kg7,Qe5+,Kf7,c8=Q', 'Rd1+,Qe1,Rxe1#', 'https://lichess.org/training/Dcvjx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DcW1D', 'Rapid', 'Jaja14', 1622, 'mush_gm', 1622, 'e4,e5,Nf3,d6,Bc4,h6,d3,Nf6,O-O,Bg4,h3,Bxf3,Qxf3,Nc6,Qd1,Be7,Nd2,O-O,Nf3,a6,a3,b5,Ba2,a5,c4,b4,axb4,axb4,Bd2,Qb8,Bb3,Na5,Ba4,c5,b3,Nb7,Nh4,Nd7,Bxd7,Rxa1,Qxa1,Bxh4,Bb5,Nd8,Qd1,Ne6,Qg4,Bf6,Bxh6,Nd4,Ba4,Rd8,Bg5,Bxg5,Qxg5,f6,Qd2,Qa7,f4,Qf7,fxe5,dxe5,Qd1,Qg6,Kh1,Ne6,Rf3,Nd4,Re3,Ne6,Rf3,Nf4,Qf1,Nh5,g4,Nf4,Kh2,Rf8,Bd7,Kh8,Bf5,Qg5,Bd7,g6,Qf2,Rd8,Ba4,Nxd3,Qf1,Qd2+,Kg3,Ne1,Rxf6,Qe3+,Kh4,Qh6+,Kg3,Rd3+,Kf2,Qh4+,Ke2,Kh7,Rf7+,Kh6,Qxe1', 'Re3+,Kxe3,Qxe1+', 'https://lichess.org/training/DcW1D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dcxph', 'Rapid', 'riki2', 1690, 'madi1693', 1766, 'd4,Nf6,e3,g6,h3,Bg7,Nf3,O-O,Bd3,b6,O-O,Bb7,a3,Ne4,b4,f5,Bb2,Nc6,Nc3,Nxc3,Bxc3,e5,dxe5,Nxe5,Nxe5,d6,Bc4+,Kh8,Nxg6+,hxg6,Bxg7+,Kxg7,Qd4+,Qf6,Qxf6+,Rxf6,Rad1,Raf8,f4,Re8,Rfe1,a6,a4,Rff8,Kf2,Rh8,Bd5,c6,Bb3,d5,c4,Re4,cxd5,Rxb4,dxc6,Bxc6,Rb1,Be4,Rb2,Rd8,Ree2,Rd3,Bd1', 'Rxb2,Rxb2,Rxd1', 'https://lichess.org/training/dcxph');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dCy13', 'Rapid', 'yura1204', 1949, 'Marianna18', 1871, 'e4,e6,d4,d5,exd5,exd5,c4,dxc4,Bxc4,Nf6,Nf3,Bg4,Bxf7+,Kxf7,Ne5+,Kg8,Nxg4,Nc6,Bg5,Qxd4,Qb3+,Qd5', 'Nxf6+,gxf6,Qxd5+', 'https://lichess.org/training/dCy13');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dcYzv', 'Rapid', 'nevedal', 2138, 'AlcianGreen', 2148, 'e4,e5,Nf3,Nc6,Bc4,f5,d3,Nf6,Ng5,d5,exd5,Nxd5,Nc3,Bb4,Bd2,Bxc3,bxc3,Na5,Bb5+,c6,Ba4,b5,Bb3,Nxb3,axb3,O-O,Qh5,Nf6,Qe2,h6,Nf3,e4,Nd4,exd3,Qxd3,Re8+,Kd1,Ne4,Rf1,Bb7,f3,Nf6,Qxf5,Qd6,g3,Rad8,Rxa7,Bc8,Qg6,Re7,Rxe7,Qxe7,Nf5,Bxf5,Qxf5,Qd6,Rf2,Qa3,Re2,Nd5,Ke1,Qa1+,Kf2,Kh8,c4,bxc4,bxc4,Nc3,Qe5,Nd1+,Kg2', 'Qxe5,Rxe5,Rxd2+', 'https://lichess.org/training/dcYzv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DczDs', 'Rapid', 'damien123', 1825, 'Man-Eiviem_86', 1864, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,e6,O-O,Nd7,h3,Bh5,Ne5,Bxe2,Qxe2,Ne7,Nxd7,Qxd7,Nc3,Nc6,Be3,Bb4,a3,Bxc3,bxc3,O-O,c4,b6,cxd5,Qxd5,c4,Qd6,c5,bxc5,dxc5,Qc7,Rfc1,Rfd8,Qf3,a5,Bf4,e5,Bg3,f6,Qb3+,Kh8,Rd1,Nd4,Qb6,Qc8,Kf1,a4,Rac1,Nb3,Rxd8+,Qxd8,Qxd8+,Rxd8,Rc4', 'Nd2+,Ke2,Nxc4', 'https://lichess.org/training/DczDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DCZPO', 'Blitz', 'fatimagultekinn', 1559, 'mdsjjorge', 1506, 'c4,Nf6,Nc3,g6,e4,Bg7,d4,d6,Be3,O-O,Nf3,a6,Be2,Nc6,Qd2,Nd7,h4,e5,d5,Nd4,Nxd4,exd4,Bxd4,c5,Bxg7,Kxg7,h5,Ne5,hxg6,fxg6,Qh6+,Kf6,Qxh7,Qd7,Qh4+,Kf7,Qf4+,Kg8,Qh6,Qg7,Qg5,Bd7,O-O-O,Rae8,Rh2,Rxf2,Rdh1,Nf7,Qg3,Rf6,Bg4,Bxg4,Qxg4,Ne5,Qh4,Nd3+,Kb1,Nf2,Qh8+,Qxh8', 'Rxh8+,Kf7,R1h7#', 'https://lichess.org/training/DCZPO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dcZRi', 'Rapid', 'Igorbleh', 1801, 'Gyuriba', 1840, 'd4,d5,e3,Nf6,c4,c6,Nf3,Bg4,Nc3,e6,h3,Bf5,Bd3,Bb4,a3,Bxc3+,bxc3,Ne4,Bb2,O-O,cxd5,cxd5,O-O,Nd7,c4,Ndf6,c5,b6,cxb6,axb6,Ne5,Rc8,Bxe4,Nxe4,f3,Nc3,Bxc3,Rxc3,Qe1,Rc7,g4,Bg6,Rc1,Ra7,Nc6,Qa8,Nxa7,Qxa7,Qb4,Bd3,Rf2,b5,h4,Bc4,h5,Qc7,f4,h6,a4,bxa4,Qxa4,Qe7,Rh2,Qb7,Qc2,Ra8,f5,Ra2,Qd1,Rxh2,Kxh2,Qc7+,Kh1,Qg3,fxe6,fxe6,Rb1,Qxe3,Rb8+,Kh7,Re8,Qe4+,Kg1,Be2,Qe1,Qxd4+,Kg2,Qxg4+,Qg3,Qxh5,Rxe6,d4,Re7,Qd5+,Kh3,Bf1+,Kh2,Qh5+', 'Kg1,Qg6,Qxg6+,Kxg6,Kxf1', 'https://lichess.org/training/dcZRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dd11L', 'Blitz', 'etemkaratas', 1651, 'ngngngng', 1646, 'd4,f5,Bf4,Nf6,e3,d6,c4,Nbd7,Be2,g6,Nf3,Bg7,O-O,O-O,Nc3,Re8,d5,Nh5,Bg3,Nxg3,fxg3,Nf6,Qc2,b6,Rac1,e5,Nd2,e4,Nb3,Bd7,Nd4,Qe7,Bd1,Rf8,Nce2,Ng4,Qd2,Bh6,Nf4,Rf7,Bxg4,fxg4,Nfe6,Bxe6,dxe6,Rf6,Rxf6,Qxf6,Rf1,Qe7,Rf7,Qg5,Rxc7,Rf8,e7', 'Qxe3+,Qxe3,Bxe3+,Kh1,Rf1#', 'https://lichess.org/training/Dd11L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DD3ph', 'Blitz', 'IM chargemax23', 2728, 'Elbece', 2705, 'e3,e5,c4,c6,Nc3,Nf6,d4,exd4,exd4,d5,Nf3,Bb4,Be2,dxc4,Bxc4,O-O,O-O,Bg4,Be3,Nbd7,h3,Bh5,Be2,Re8,Qb3,Qa5,Rfe1,Re7,Nd2,Bxe2,Rxe2,Nb6,a3,Bxc3,bxc3,Nbd5,c4,Nxe3,fxe3,Rae8,Nf1,Ne4,Rc2,Qg5,a4,h5,Re1,h4,Rce2,g6,Qd3,b6,Nh2,Ng3,Nf3,Nxe2+,Rxe2,Qg3,e4,f6,e5,fxe5,dxe5,Kg7,Re4,Rxe5,Rxe5,Rxe5,Nxe5,Qxe5,Qd7+,Kh6,Qxc6,Qc5+,Qxc5,bxc5,Kf2,Kg5,Kf3,Kf5,a5', 'Ke5,Kg4,Kd4,Kxh4,Kxc4', 'https://lichess.org/training/DD3ph');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DD3UP', 'Rapid', 'MRDemirayak', 1906, 'chesscraftsman', 1899, 'd4,d5,c4,e6,a3,c5,Nf3,Nc6,Nc3,Nf6,Bg5,Be7,cxd5,Nxd5,Nxd5,exd5,Bxe7,Qxe7,dxc5,Qxc5,e3,O-O,Be2,Be6,O-O,Rac8,b4,Qb6,Bd3,Rfd8,Ng5,h6,Nxe6,fxe6,Qg4,Ne5,Qe2,Rc3,Rfd1,Rdc8,f4,Nxd3,Rxd3,Rc1+,Rd1,Rxa1,Rxa1,a5,h3,axb4,axb4,Qxb4,Qg4,Qb6,Rf1,Qxe3+,Kh2,b5,Rf3,Qe2,f5,exf5,Qxf5,Qc4,Qe6+,Kh8,Rf7,Qc6', 'Rf8+,Rxf8,Qxc6', 'https://lichess.org/training/DD3UP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dd42h', 'Blitz', 'pag35', 1663, 'Paramatma', 1616, 'd4,Nf6,c4,e6,Bf4,b6,a3,Bb7,Nc3,Be7,d5,exd5,cxd5,d6,e4,Nbd7,b4,a6,Bd3,Ne5,Be2,O-O,Nf3,Nxf3+,Bxf3,Nd7,O-O,Ne5,Be2,f5,Bxe5,dxe5,f3,a5,b5,Bc5+,Kh1,Bd4,Rc1,f4,a4,Qh4,Qe1,Qh5,Bc4,Rf6,Ne2', 'Qxh2+,Kxh2,Rh6+,Qh4,Rxh4#', 'https://lichess.org/training/dd42h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dD6Bx', 'Blitz', 'tchrom', 1679, 'moatazmetwally', 1643, 'd4,d5,Bf4,c5,dxc5,e6,e3,Bxc5,Bb5+,Bd7,Bd3,Nc6,c3,Nf6,Nd2,O-O,Nb3,Bb6,Bc2,e5,Bg5,e4,Bxf6,Qxf6,Qxd5,Rfe8,Qxd7,Rad8,Qh3,Nb4,Bb1,Nd3+,Bxd3,Rxd3,Ne2,Red8,O-O,a5,Nbd4,Bxd4,cxd4,Qb6,b3,Qb4,Nf4,Rd2,Qg3,a4,Nh5,g6,Nf6+,Kg7,Nxe4,Rc2,Qe5+,Kg8,Nf6+,Kf8,Nxh7+,Kg8,Nf6+,Kf8,Ne4,axb3,axb3,Qxb3,Qh8+,Ke7,Qh4+,Ke8,Nf6+,Kf8,Qh8+,Ke7,Qh4,Rdc8,Nd5+,Kd6,Ne7,R8c7,Qf6+,Kd7,Rfb1', 'Qxb1+,Rxb1,Rc1+,Rxc1,Rxc1#', 'https://lichess.org/training/dD6Bx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dd90u', 'Rapid', 'volla', 1654, 'michele31795', 1719, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,Ng5,O-O,h3,h6,Nf3,d6,d3,Nd4,Nxd4,Bxd4,Bd2,Nh7,g4,Ng5,h4,Qf6,Qe2,Nf3+,Kd1,Bxg4,Kc1,Bd7', 'Nd5,Qd8,Qxf3', 'https://lichess.org/training/Dd90u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DDazV', 'Blitz', 'JaimeCriste62', 2342, 'CM WildTricks', 2387, 'd4,e5,c3,d6,Nf3,e4,Ng1,d5,Bf4,Bd6,Bxd6,Qxd6,e3,Ne7,Qb3,O-O,c4,Nbc6,cxd5,Nxd5,Nc3,Be6,Qc2,f5,Nh3,Ncb4,Qd2,f4,Nxd5,Nxd5,Ng5,fxe3,fxe3,Kh8,Bc4,Bg8,Nxe4,Qg6,Bxd5,Bxd5,Nc3,Qxg2,Qxg2,Bxg2,Rg1,Bf3,Kd2,c5,Raf1,cxd4,exd4,Rad8,Kd3,h6,Rf2,g5,h3,Rf4,d5,Bxd5,Rxf4,gxf4,Nxd5,Rxd5+,Ke4,Rd2,Rb1,Rf2,a3,Kg7,b4,Kf6,Rc1,Kg5,Rc5+,Kh4,Rc7,Kxh3,Rxb7,Kg4,Rg7+,Kh4,Rxa7,h5,Rf7,Kg3,Rg7+,Kh3,b5,h4', 'b6,f3,b7,Rb2,Kxf3', 'https://lichess.org/training/DDazV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dDB2s', 'Rapid', 'Carrera79', 1855, 'Mahmoud909', 1811, 'd4,d5,e3,e6,Nf3,Nf6,Bd3,Be7,O-O,Nc6,b3,Bd7,Bb2,O-O,c4,dxc4,bxc4,a5,Nc3,Bb4,a3,Bxc3,Bxc3,Ne7,Qd2,b6,e4,c5,d5,exd5,Bxf6,gxf6,Qh6,dxe4,Bxe4,Ng6,Bxa8,Qxa8,Nh4,Qe4,Nxg6,fxg6,Qe3,Qxc4,Qe7,Bb5,Rac1,Qg4,Rfd1,Bc6,f3,Bxf3,Rd2,Bc6,Kh1,Re8,Qd6,Qg5', 'Qxc6,Qxd2,Qxe8+', 'https://lichess.org/training/dDB2s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DdB4u', 'Rapid', 'Josenilson10', 1719, 'mvo32456', 1760, 'e4,d5,exd5,Qxd5,Nc3,Qa5,g3,Nf6,Bg2,c6,d3,Bg4,Nf3,Qh5,h3,Bxf3,Bxf3,Qe5+,Ne2,Nbd7,d4,Qf5,Nc3,O-O-O,Be3,e5,Qe2,exd4,Bxd4,Re8,Be3,Bc5,O-O-O,Bxe3+,fxe3,Re6,Rd3,Rhe8,Kb1,Ne5,Bg4,Nexg4,hxg4,Nxg4,e4,Qg6,Rxh7,Qxh7,Qxg4,Kb8,Qf4+,Re5,Qxf7,Rxe4,a3,Qh1+,Rd1,Re1', 'Qxe8+,Rxe8,Rxh1', 'https://lichess.org/training/DdB4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DDEHK', 'Rapid', 'crespo8610', 1974, 'bisuk', 1968, 'e4,c5,Nf3,Nc6,c3,d6,Na3,a6,Nc2,g6,d4,cxd4,cxd4,Bg7,Bc4,Bg4,Bxf7+,Kf8,Bd5,Qb6,Bxc6,Qxc6,O-O,Qxe4,h3,Bxf3,gxf3,Qf5,Ne3,Qh5,Kh2,Nh6,Ng4,Nf5,Be3,Qh4,Qd2,h5', 'Bg5,hxg4,Bxh4', 'https://lichess.org/training/DDEHK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dDfPv', 'Blitz', 'Jokab1', 1787, 'Kavita77', 1697, 'd4,Nf6,Bf4,g6,e3,Bg7,c4,O-O,Nc3,d6,Nf3,Nc6,Be2,Nd7,Qc2,e5,dxe5,dxe5,Bg3,f5,Bh4,Nf6,Rd1,Qe7,Nd5,Qc5,Nxf6+,Bxf6,Bxf6,Rxf6,O-O,Rd6,Rxd6,cxd6,Rd1,Be6,b3,Nb4,Qd2,Rd8,a3,Nc6,b4,Qb6,b5,Na5,Qb4,d5,Ng5,Nxc4,Nxe6,Nxe3,Nxd8,Nxd1,Qe7', 'Qxf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/dDfPv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dDFTq', 'Blitz', 'Rz-Daf', 1591, 'Fynocx', 1562, 'e4,c5,Nf3,d6,Nc3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Nce2,Nf6,g3,O-O,Bg2,a6,O-O,Nxd4,Nxd4,Qc7,c3,b5,b4,Bb7,Qc2,e5,Ne2,Ng4,Bd2,f5,h3,Nf6,exf5,Bxg2,Kxg2,Qc6+,Kh2,gxf5,Qxf5,h5,Qg6,Ra7,Rad1,Raf7,Bg5,Ng4+,hxg4', 'Rxf2+,Rxf2,Rxf2+,Kh3,Qg2+,Kh4,Qh2#', 'https://lichess.org/training/dDFTq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DDGIk', 'Rapid', 'Docteur-Jupiter', 1616, 'AnatolyAlekhine', 1617, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Nd7,O-O,c5,c3,cxd4,cxd4,Ne7,Bg5,h6,Bh4,Qb6,b3,Nf5,Nbd2,Bb4,h3,Bxd2,Qxd2,Rc8,Rac1,O-O,Rxc8,Rxc8,Rc1,Rxc1+,Qxc1,Nxd4', 'Qc8+,Kh7,Qxd7,Nxf3+,gxf3', 'https://lichess.org/training/DDGIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ddGuK', 'Rapid', 'VesuviusFireOfFire', 2137, 'daniyal999', 2044, 'c4,e5,Nc3,c6,g3,d5,cxd5,cxd5,d4,exd4,Qxd4,Be6,Bg2,Nf6,Bg5,Nbd7,Nxd5,Bxd5,Bxd5,Qa5+,b4,Qxd5,Qe3+,Ne5,Bxf6,Bxb4+,Kf1,gxf6,Nf3,O-O-O,Qxa7,Nxf3,Rc1+,Kd7,Qa4+,Ke6,exf3,Bc5', 'Re1+,Kd6,Rd1,Qxd1+,Qxd1+', 'https://lichess.org/training/ddGuK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ddIB8', 'Classical', 'Pascalvogel', 1693, 'Sergey_Serzhan', 1672, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,b3,e5,Bb2,Bf5,Qe2,Nb4,Qxe5+,Be7,Qxf5,O-O,a3,Nc6,Nf3,Re8,Be2,Bd6,Bxf6,gxf6,Nc3,Ne5,Nxe5,Bxe5,O-O,Qxd2,Nd5,Qxe2,f4', 'Bd4+,Kh1,Bxa1', 'https://lichess.org/training/ddIB8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DDjBa', 'Rapid', 'Mario-Barbieri', 1883, 'Kinkosh', 1844, 'c4,c6,g3,d5,cxd5,cxd5,Bg2,Nf6,d4,Nc6,Nf3,e6,O-O,Be7,Nc3,O-O,a3,a5,e3,b6,Bd2,Ba6,Re1,Na7,Rc1,Nb5,Nxb5,Bxb5,a4,Ba6,Ne5,Rc8,Qb3,Qd6,Bf1,Bxf1,Rxf1,Ne4,Qd3,Nxd2,Qxd2,f6,Nd3,Qd7,b3,Rxc1,Rxc1,Rc8,Nf4,Ba3,Rc2,Bb4,Qc1,Rxc2,Qxc2,Bd6,Nd3,Qc7,Qxc7,Bxc7,b4,e5,dxe5,Bxe5,bxa5,bxa5,Nxe5,fxe5,Kf1,Kf7,Ke2,Ke6,Kd3,g5,f3,h5,h3,Kf5,g4+,hxg4,hxg4+,Ke6,Kc3,Kd6,Kd3', 'Kc5,Kc3,d4+', 'https://lichess.org/training/DDjBa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DdjEI', 'Blitz', 'SarahLane', 1943, 'Lobaldo', 1855, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,Nbd7,cxd5,exd5,Bd3,h6,Bh4,O-O,Nge2,c5,O-O,b6,Rc1,Bb7,Bb1,Rc8,Bg3,Re8,Qd3,Nf8,Be5,Ng4,Ng3,Nxe5,dxe5,d4,Nce4,Bh4,Nf5,Rxe5,Ned6,Rc7,Nxb7,Rxb7,Nxh4,Qxh4,exd4,cxd4,Rc8,g6,f4,Re1,Qxd4,Rbe7', 'Rxf8+,Kxf8,Qh8#', 'https://lichess.org/training/DdjEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DdjFE', 'Rapid', 'wanskazep', 2152, 'BimyselF', 2092, 'd4,d5,Nf3,e6,Bf4,c5,c3,Nc6,h3,Nf6,b3,Bd7,e3,Be7,Bd3,a6,O-O,b5,Nbd2,c4,Bc2,O-O,Qe2,a5,Rfd1,b4,cxb4,cxb3,axb3,Nxb4,Nf1,Rb8,Ng3,Bb5,Qd2,Qb6,Ne5,Nd7,Kh2,Nxe5,Bxe5,Rb7,Bb1,Nc6,e4,Bb4,Qg5,f6,Qg4,fxe5,Qxe6+,Kh8,exd5,Nxd4,Qxe5,Nxb3,Ra2,Rxf2,Rxf2,Qxf2,Qh5,g5,Qxg5,Rg7,Qd8+,Rg8,Qh4,Bd6', 'Qxh7#', 'https://lichess.org/training/DdjFE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DDkJC', 'Blitz', 'CM KingRAZOR', 2241, 'IrunguBrian', 2244, 'e4,Nf6,e5,Nd5,c4,Nb6,a4,d5,c5,N6d7,d4,b6,cxb6,axb6,Nf3,e6,Bd3,Be7,O-O,O-O,Qc2,g6,Bh6,Re8,Nbd2,c5,g3,Nc6,Bb5,Nxd4,Nxd4,cxd4,Nf3,Ba6,Rad1,Bxb5,axb5,Rc8,Qd2,Nc5,Nxd4,Ne4,Qe2,Rc4,Nc6,Qc7,Qf3,Bc5,Kg2,Rc2,Be3,Rxb2,Bxc5,Nxc5,Rc1,Rxb5,Nd4,Rb2,Qf6,Ne4', 'Rxc7,Nxf6,exf6', 'https://lichess.org/training/DDkJC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DDlBo', 'Rapid', 'DominguezYates', 1813, 'ilhan28', 1790, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,Bc5,O-O,c6,Bc4,d5,exd5,cxd5,Re1+,Ne7,Bb5+,Bd7,Bxd7+,Qxd7,Qe2,O-O,c3,Rfe8,cxd4,Bxd4,Be3,Nc6,Qd2,Re6,Bxd4,Rxe1+,Qxe1,Nxd4,Nc3', 'Nc2,Qd1,Nxa1', 'https://lichess.org/training/DDlBo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DdlEd', 'Rapid', 'Ole187', 1862, 'richmondquidpuan', 1915, 'd4,e6,e4,c5,c3,d5,e5,c4,Nf3,a5,Be2,a4,O-O,b5,b4,axb3,Bb2,Rxa2,Rxa2,bxa2,Na3,Qa5,Qc1,b4,cxb4,Bxb4,Nc2,Nc6,Ba3,Bxa3,Nxa3,Nge7,Bxc4,dxc4,Nxc4,Qa7,Nd6+,Kd7,Nxf7,Rd8,Nxd8,Kxd8,Qb2,Nf5,Ra1,Nfxd4,Nxd4,Nxd4,Rxa2,Qc5,Qd2,Ke8,Ra8,Ne2+', 'Qxe2,Qc1+,Qf1', 'https://lichess.org/training/DdlEd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dDMAj', 'Classical', 'wally87', 1781, 'clsi', 1775, 'e4,d5,exd5,Nf6,Bc4,Nxd5,Qf3,e6,Nc3,Nxc3,bxc3,Be7,Nh3,O-O,O-O,Nd7,d4,Nf6,a4,c6,Bg5,h6,Bxh6,gxh6,Nf4,Nd5,Bxd5,cxd5,Nh5,Kh8,Rfe1,f5,Nf4,Rg8,Nxe6,Bxe6,Rxe6,Qf8,Qxd5,Qg7,g3,f4,Rae1,Ba3,Qh5,Bf8,R1e4,fxg3,hxg3,Qh7,Rh4,Rg5,Qe2,h5,Re8,Rxe8,Qxe8,Rf5,g4,Qg7,f3,Qg5', 'Rxh5+,Qxh5,gxh5', 'https://lichess.org/training/dDMAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ddn6g', 'Rapid', 'tranxt', 2016, 'PollitoSuarez', 2024, 'e4,e5,Nc3,Bb4,Nd5,Bc5,Bc4,Nf6,d3,Nxd5,Bxd5,Qf6,Be3,Bxe3,fxe3,c6,Bb3,d6,Qf3,Qg6,Ne2,O-O,O-O,Na6,d4,Bg4,Qf2,Bxe2,Qxe2,Qxe4,c3,exd4,cxd4,Rae8,Rf3,Qxd4,Qxa6,Rxe3,Qc4', 'Re1#', 'https://lichess.org/training/Ddn6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dDNxv', 'Classical', 'hugopapi', 1855, 'GGbers', 2119, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Nxe5,d5,Nxf7,Qf6,Qf3,Kxf7,Bxd5+,Be6,Bxe4,Nc6,Bxc6,bxc6,Qxc6,Re8,O-O,Bd6,Nc3,Bg4,d3', 'Bxh2+,Kxh2,Qxc6', 'https://lichess.org/training/dDNxv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dDODm', 'Blitz', 'canbe90', 1789, 'MikeM2020', 1880, 'd4,e6,c4,d5,Nc3,dxc4,e4,Nf6,Bxc4,Be7,e5,Nd5,Nf3,c6,O-O,O-O,Bb3,b6,Qd3,Ba6,Bc4,b5,Nxd5,exd5,Bb3,b4,Qe3,Bxf1,Kxf1,Na6,Bc2,g6,Qh6,Nc7,Bg5,Ne6,Bxe7,Qxe7,Re1,Rfc8,h4,Qf8,Qe3,a5,h5,a4,Nh4,b3,axb3,axb3,Bd3,Ra2,hxg6,hxg6,Qg3,Rxb2,Re3,g5,Nf5,Ra8,Qh3,Ra1+,Re1,Rxe1+,Kxe1,Nf4', 'Ne7+,Qxe7,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/dDODm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ddpbq', 'Rapid', 'Roanjo', 1777, 'Senidi', 1758, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,Nc6,d3,e6,O-O,a6,a4,Be7,Be3,Ng4,h3,Nxe3,fxe3,Bd7,d4,cxd4,exd4,Rc8,Bb3,Qc7,d5,Ne5,dxe6,Bxe6,Bxe6,fxe6,Nxe5,dxe5,Qh5+,g6,Qf3,Rf8,Qg4,Qc6,Rxf8+,Bxf8,Rf1,Kd7,Rf7+,Kd6,Rf6,Re8,Qf3,Be7,Qd3+,Kc7,Nd5+,Kb8,Nxe7,Rxe7', 'Qd8+,Ka7,Qxe7', 'https://lichess.org/training/Ddpbq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DDPD9', 'Rapid', 'Aleks__name', 1983, 'Ivols84', 2082, 'd4,e6,e3,d5,Bd3,Nf6,f4,Be7,Nf3,c5,c3,b6,O-O,O-O,Ne5,Ba6,Rf3,Bxd3,Qxd3,Nbd7,Rh3,Ne4,Nd2,Ndf6,Nxe4,Nxe4,Bd2,cxd4,exd4,Rc8,Rf1,Bf6,Rff3,Qe8,Qe2,Qa4,Rxh7,Rfd8,Rh8+,Kxh8,Rh3+,Kg8,Qh5,g6', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/DDPD9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DDPLs', 'Rapid', 'GreatKenyan', 1635, 'crims', 1735, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bd6,Be3,Nf6,O-O,O-O,h3,h6,Nbd2,Be6,a3,b5,b4,Qe7,c4,c5,bxc5,Bxc5,Nxe5,Bxe3,fxe3,Bxh3,Nef3,Bg4,cxb5,axb5,Qe1,Rfd8,e5,Nd5,e4,Qc5+,d4,Qc3,exd5,Rxd5,Nh2,Qxd4+,Kh1,Be6,Nhf3,Qg4,Qh4', 'Qxh4+,Nxh4,Rxd2', 'https://lichess.org/training/DDPLs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dDq1M', 'Classical', 'elmams', 1823, 'tlhogie_the_pusher', 1797, 'e4,c5,Bc4,Nc6,a3,Nf6,Nc3,e6,d3,a6,a4,d5,exd5,Nxd5,Ne4,Be7,Nh3,Qa5+,Bd2,Qc7,Qg4,Rg8,Nhg5,Nf6,Qf3,Qe5,c3,Nxe4,Qxf7+,Kd7,Nxe4', 'Rf8,Qxe6+,Qxe6,Bxe6+,Kxe6', 'https://lichess.org/training/dDq1M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DDr9L', 'Rapid', 'Crnichaj', 1820, 'PauloMendes71', 1837, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nf3,Nc6,Bg5,Be7,O-O,O-O,Qd2,Be6,Ne2,Bg4,c3,Bxf3,gxf3,Nd7,Bh6,gxh6,Qxh6,Bg5,Qh5,Kh8,Kh1,Qf6,Rg1,Rg8,Ng3,Rg6,Nf5,Rag8,Bc4,Ne7,Bxf7,Qxf7,Nxd6,Qf4,Rxg5,Rxg5,Nf7+,Kg7,Nxg5,Nf6', 'Ne6+,Kh8,Nxf4,Nxh5,Nxh5', 'https://lichess.org/training/DDr9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DdS8W', 'Blitz', 'Ducadod', 1674, 'Smashbrosboy', 1661, 'd4,d5,Bf4,h5,Nf3,Nc6,e3,e5,dxe5,Be7,Bd3,g5,Bb5,gxf4,Bxc6+,bxc6,exf4,Ba6,c3,f6,e6,Qd6,f5,Nh6,Nd4,Qe5+,Kd2,Qf4+,Kc2,Qxf2+,Kb3,Bc4+,Ka4,Qxb2,Qxh5+,Kd8,Nxc6+,Kc8,Nxe7+,Kb7,Na3,a6,Rhb1', 'Bb5+,Nxb5,axb5#', 'https://lichess.org/training/DdS8W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DDSko', 'Classical', 'Cemalkaragunnlu', 1858, 'Roberticodetrof', 1878, 'e4,a6,d4,e6,a3,d5,Nc3,h6,Be3,dxe4,Nxe4,Nf6,Bd3,Nc6,Nxf6+,Qxf6,Qg4,e5,Qe4,Bf5', 'Qxf5,Qxf5,Bxf5', 'https://lichess.org/training/DDSko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dDtdM', 'Rapid', 'LAWillis', 1693, 'JorgeAlgara72', 1685, 'd4,e6,e3,Nf6,g4,h5,Bg2,hxg4,b3,d5,Bb2,b6,Nc3,Bb4,Qd3,Bb7,O-O-O,Bxc3,Qxc3,a5,Ne2,Ba6,Nf4,c5,dxc5,bxc5,Qxc5,Nbd7,Qa3,e5,Nxd5,Nxd5,Rxd5,Bb7,Rxd7,Qxd7,Bxb7,Qxb7,Rd1,Rxh2,Qa4+,Ke7,Ba3+,Ke6,Rd6+,Kf5,Qc4,f6,Qd3+,Qe4,Qe2,Rc8,c4,g3,Rd1,Rxf2', 'Qh5+,g5,Qh7+,Kg4,Qxe4+', 'https://lichess.org/training/dDtdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dDvFQ', 'Bullet', 'Suxerk', 1782, 'DarthNihilus', 1691, 'f4,e6,Nf3,d5,e3,c5,Bb5+,Nc6,Ne5,Qb6,Bxc6+,bxc6,b3,Nf6,Bb2,Bd6,O-O,O-O,Ng4,Nxg4,Qxg4,f6,d3,c4,Nd2,Qxe3+,Kh1,Qxd2,Rac1,cxd3,cxd3,Qxb2,Rxc6,Bb4,Rfc1,Qf2,Rc7,g6,Rxh7,Kxh7,Rc7+,Kh6', 'Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/dDvFQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ddXps', 'Classical', 'Flavio1985', 1848, 'Carcosa-jk', 1786, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke8,Bxd5,Qf6,O-O,Bd6,Nc3,Nd4,Qe4,Bf5,Qe3,Nxc2,Qf3,Nxa1,Bxb7,Rd8,d4,Nc2,dxe5,Bxe5,Nd5,Bxh2+,Kxh2,Qh4+,Kg1,Nd4,Re1+,Kf8,Qa3+,Kf7,Re7+,Kg6,Nf4+,Kf6,Nd5+,Kg6,Qa6+,Ne6,Nf4+,Kf6,Rxe6+,Kf7,Bd5,Rxd5,Nxd5,Bxe6,Nxc7,Qe4,Be3,Rc8,Qxa7,Kg6,b3,Rd8,Nxe6', 'Rd1+,Kh2,Qh4#', 'https://lichess.org/training/ddXps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DDzoH', 'Rapid', 'eliasi', 1860, 'JOSEMNUEL', 2192, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,d3,O-O,Bxc6,dxc6,Nxe5,Qe7,Nf3,Bg4,Nbd2,h6,Re1,Rad8,Qe2,Rfe8,Nf1,Bd6,Ng3,Nh5,Nxh5,Bxh5,Qe3,f5,exf5,Qf6,Qd2,Bxf3,Rxe8+,Rxe8,gxf3,Qxf5,Qc3,Qh3,Qc4+,Kh8,Bf4,b5,Qxc6,Re6,Bxd6', 'Rg6+,Bg3,Rxc6', 'https://lichess.org/training/DDzoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dE39S', 'Rapid', 'chesspilot13', 1904, 'Genius_2004', 1842, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Nf6,g3,Qc7,Bg2,Nc6,O-O,Be7,Be3,O-O,f4,d6,Qe2,Bd7,Rad1,Rac8,g4,Rfd8,g5,Ne8,Qh5,Nxd4,Bxd4,Bc6,Rf3,g6,Qh6,Bf8', 'Qxh7+,Kxh7,Rh3+,Bh6,Rxh6+,Kg8,Rh8#', 'https://lichess.org/training/dE39S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DE3Io', 'Rapid', 'adarlapelea', 2204, 'Shubham9Gupta19', 2224, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Nc6,Nxc6,bxc6,O-O-O,Be6,Bh6,Bxh6,Qxh6,Qa5,Kb1,Rfb8,Qd2,Qb4,b3,a5,Ne2,Qb6,Nd4,a4,Nxe6,fxe6,Bc4,d5,exd5,exd5,Bd3,axb3,cxb3,c5,Bc2,Qa6,Bd3,Rxb3+,axb3', 'Qa1+,Kc2,Ra2#', 'https://lichess.org/training/DE3Io');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('de49X', 'Rapid', 'FIDEL_C', 1786, 'GabrielMoy', 2054, 'e4,e6,Nf3,g6,d4,Bg7,e5,d5,Bb5+,Nc6,O-O,Bd7,Bg5,Nge7,Nc3,a6,Bxc6,bxc6,Qd2,Qb8,b3,Qb6,Qf4,Nf5,Ne2,c5,Nh4,Nxd4,Nxd4,cxd4,Bf6,Bxf6,Qxf6,Rg8,Kh1,c5,f4,c4,g4,d3,cxd3,cxd3,f5,gxf5', 'Nxf5,exf5,Qxb6', 'https://lichess.org/training/de49X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('de4Fz', 'Classical', 'paramirez', 1698, 'egorman44', 1699, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,Nf6,O-O,e6,Bg5,Be7,Nb5,a6,Bxf6,gxf6,Nbd4,Nxd4,Qxd4,e5,Qd2,f5,exf5,Bxf5,Qh6,d5,Rad1,Be6,Nxe5,Bd6,Qg7,Rf8,Nxf7,Rxf7,Qg8+,Rf8,Qxe6+,Qe7,Qxe7+,Kxe7,Rfe1+,Kd7,Rxd5,Rac8,Bb3,Rc6,Ba4,b5,Bb3,Rfc8,g3,a5,Bc2,Rxc2,Red1,R2c6,Rxb5,Rc1,Rxc1,Rxc1+,Kg2,Bc7,Rh5,Rc2,Rxh7+,Kc8,Rh8+,Kb7,Rh4,Rxb2,a4,Bb6,Rh7+,Ka6,Rh6,Rxf2+,Kh3,Ra2,Rh4,Ra3,Re4,Rb3,Re6,Rb4,g4,Rxa4,g5,Ra3+,Kh4,Ra4+,Kh5,Rd4,g6,Rd8,Kh6,Rd2,h4,a4,g7,Rg2', 'Rg6,Rxg6+,Kxg6', 'https://lichess.org/training/de4Fz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dE5jc', 'Blitz', 'CM JohnnyAnto', 2398, 'Nazar_Melnyk003', 2308, 'e4,Nf6,e5,Nd5,Nf3,d6,d4,Bg4,Be2,Nc6,exd6,exd6,c4,Nb6,b3,Be7,Bb2,Bf6,O-O,O-O,Nbd2,d5,c5,Nc8,a3,a5,h3,Bh5,Bc3,N8e7,Qc2,Bg6,Bd3,Qd7,b4,axb4,axb4,Rxa1,Rxa1,Nf5,Nb3,Nh4,Nxh4,Bxh4,b5,Ne7,Ra7,Qxb5,Bxb5,Bxc2,Na5,b6,cxb6,cxb6,Nc6,Nxc6,Bxc6,Bb3,Rb7,Rc8,Rxb6,Bd8', 'Rxb3,Rxc6,Rb8', 'https://lichess.org/training/dE5jc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DE63W', 'Rapid', 'perujo1984', 1653, 'Sabillonmaster', 1674, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bb5,Nf6,Bg5,Be7,Nc3,a6,Bxc6+,bxc6,Ne5,h6,Bxf6,Bxf6,Nxc6,Qd6,Qe2+,Kd7,Ne5+,Bxe5,Qxe5', 'Re8,O-O-O,Rxe5', 'https://lichess.org/training/DE63W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DE7OZ', 'Blitz', 'slipenko', 2060, 'krisz', 1714, 'e4,e5,Nf3,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Nc3,Bg4,Be2,Nf6,O-O,h6,h3,Bh5,Be3,Nbd7,Rc1,O-O,Qd2,d5,e5,Ne4,Nxe4,dxe4,Nh2,Bg6,f3,exf3,Nxf3,Qe7,Bd3,Qe6,Qc2,Qd5,Bxg6,fxg6,Qxg6,Rxf3,Rxf3,Bxd4,Kh2,Qxe5+,Bf4,Qe2,Rxc7,Nb6,Bxh6,Qe5+,Bf4,Qe1,Bg3,Bg1+,Kh1,Bf2+,Kh2,Bg1+,Kh1', 'Bf2+,Kh2,Qg1#', 'https://lichess.org/training/DE7OZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('de7Xa', 'Blitz', 'rafaello95', 1605, 'Tac_Tic', 1576, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,Qb6,a3,cxd4,Nxd4,Nxe5,Be2,Nf6,O-O,Be7,Kh1,O-O,f4,Nc6,f5,Nxd4,cxd4,exf5,Nc3,Ne4,Nxd5,Qd6,Nxe7+,Qxe7,Bd3,Be6,Qf3,g6,Bh6,Rfd8,Bxe4,fxe4,Qxe4,Qd7,Rad1,Bd5,Qe5,f6,Qxf6,Re8,h3,Re7,h4', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/de7Xa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dE9zu', 'Blitz', 'IM mostrovski', 2578, 'FM Ichatdll', 2346, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,Bg4,Qb3,Qc8,Nd2,e6,Ngf3,Be7,O-O,O-O,Rfe1,Bh5,Ne5,Nxe5,dxe5,Nd7,Qc2,Bg6,Nf3,Bxd3,Qxd3,Nc5,Qe2,Qc6,Nd4,Qd7,Be3,b5,Nxb5,Rab8,Nd4,Rfc8,Rab1,Qa4,b3,Qa3,Nb5,Qa5,Nd6,Bxd6,exd6,Ne4,Bd4,Nxd6,Bxg7,Kxg7,Qe5+,Kg8,Qxd6,Qxc3,h3,Qc7,Qa6,Rb6,Qe2,Qc2,Qg4+,Qg6,Qa4,a6,Rbc1,Rc2,Rxc2,Qxc2,Re3,Rc6,Rg3+,Kf8,Qh4,Rc8,Qf6,Qc3,Qh6+,Ke8,Qxh7,Qc1+,Kh2,Qf4,Qg8+,Kd7,Qg4,Qxg4,Rxg4,Rc2,Kg3,Rxa2,Ra4,Rxa4,bxa4,d4,Kf4,e5+,Ke4,f5+,Kd3,Kd6,g4,Kd5,gxf5,e4+,Kd2', 'Ke5,f6,Kxf6', 'https://lichess.org/training/dE9zu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dEa4D', 'Rapid', 'slavakg', 1722, 'peppiiiatcube', 1714, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Bg5,Bb4+,c3,Be7,Nxc6,bxc6,Bxf6,Bxf6,Bd3,Rb8,Qd2,O-O,O-O,d5,Re1,dxe4,Rxe4,Bf5,Re3,Bg5,Bxf5,Qxd2,Nxd2,Bxe3,fxe3,Rxb2,Nc4,Rb5,Bd3,Rc5,Rb1,g6,Kf2,Rb5,Re1,Rd8,Be2,Rf5+,Kg3,Rdd5,h4,Rd7,e4,Rc5,e5,h5,Kf4,Kg7,g4,hxg4,Kxg4,Kh6,Bf1,a5,Re4,Re7,Be2', 'f5+,Kf3,fxe4+', 'https://lichess.org/training/dEa4D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Deaam', 'Rapid', 'SirWinner', 1752, 'lavrser61', 1839, 'd4,e6,a3,d5,Bf4,c5,e3,a6,Nf3,Nc6,c4,cxd4,exd4,dxc4,Bxc4,Qa5+,b4,Bxb4+,axb4,Qxa1,O-O,Nxb4,Qb3,Nc6,Na3,Nxd4,Nxd4,Qxd4,Qb4,Ne7', 'Bb5+,axb5,Qxd4', 'https://lichess.org/training/Deaam');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dEAv8', 'Blitz', 'IM salvinho', 2597, 'SP1200', 2464, 'Nf3,c5,e4,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Nd5,Nxd5,exd5,Ne7,a4,Ng6,Be3,Be7,Nxa7,Rxa7,Bxa7,Qa5+,Qd2,Qxa7,c3,e4,Be2,Ne5,Qe3,Qxe3,fxe3,Bg5,Kd2,f5,Rhf1,Kd8,b4,Re8,a5,Kc7,b5,Kb8,b6,g6,g3,Nd7,Bb5,Re7,Bxd7,Bxd7,c4,Bc8,Ra3,h5,Rc1,Rd7,Rb3,Bf6,Rb5,Be7,Ke2,Rd8,Kf2,h4,Rb3,Rh8,Kg2,Bf6,c5,dxc5,Rxc5,Be5,Rb1,Bd6,Rc2,Bd7,Ra2,Rc8,a6,bxa6,Rxa6,Rc2+,Kh3,g5', 'b7,g4+,Kxh4,Be7+,Kh5,Be8+,Kh6', 'https://lichess.org/training/dEAv8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dEb8o', 'Rapid', 'JussiVatanen', 1764, 'Sofik', 1725, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Nd7,O-O,Ne7,c3,c5,Na3,a6,Re1,Nc6,Qb3,Qc7,Qd1,Be7,Bg5,O-O,Nc2,Bxg5,Nxg5,h6,Nf3,Rac8,Nh4,Bh7,Bd3,Bxd3,Qxd3,b5,Re3,c4,Qd2,Nb6,Rg3,Kh8,Qf4,g5,Qf6+,Kh7,Nf3,Qe7', 'Nxg5+,hxg5,Rh3+,Kg8,Qh8#', 'https://lichess.org/training/dEb8o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('deG48', 'Blitz', 'FM JOSOHA', 2398, 'Duckplayer6666', 2154, 'Nf3,c6,b3,d5,Bb2,Nf6,g3,Bg4,Bg2,e6,d4,Nbd7,Nbd2,Bd6,O-O,O-O,Re1,Re8,e4,dxe4,Nxe4,Be7,h3,Bh5,g4,Bg6,Ne5,Qc7,Nxg6,hxg6,Qe2,Rad8,Rad1,c5,dxc5,Nxc5,Nxf6+,gxf6,Qc4,b6,a4,Rc8,Qe2,Nd7,c4,Bb4,Rf1,Ne5,Bxe5,fxe5,g5,Be7,h4,Kg7,Be4,Rh8,Qg4,Rh5,Kg2,Rch8,Rh1,Qc5,Bf3,Qb4,Qe4,R5h7,Qxe5+,Kg8,Rd7,Rxh4,Rxh4,Rxh4,Qb8+,Bf8,Qe8,Rf4,Rd8,Qc5,Rc8,Qxg5+,Kf1,Qh6,Ke2,Kh7', 'Qxf8,Qxf8,Rxf8', 'https://lichess.org/training/deG48');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dEioa', 'Rapid', 'adousi', 1942, 'abolith', 1928, 'e4,g6,d4,Bg7,Nf3,d6,Bf4,Nd7,Bc4,Ngf6,e5,dxe5,dxe5,Nh5,Bxf7+,Kxf7,Ng5+,Kg8', 'Qd5+,e6,Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/dEioa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DEjd4', 'Rapid', 'IlyaMarkSV', 1852, 'Manvel1', 2021, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,Be6,Bb5,Bd7,Nc3,Nge7,d4,exd4,Nxd4,Nxd4,Qxd4,Nc6,Bxc6,Bxc6,O-O,Qd7,Re1,O-O-O,Qxa7,b6,b4,Qe8,b5,Bxb5,a4,Bc6,a5,bxa5,Qxa5,Kd7,e5', 'Ra8,Qxa8,Bxa8', 'https://lichess.org/training/DEjd4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Del9Y', 'Rapid', 'MidNighTpancakes', 1881, 'Viktor-Voroncov', 1686, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,Qg4,c6,Bc4,Qe7,O-O', 'd5,Qd1,dxc4', 'https://lichess.org/training/Del9Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dELAg', 'Rapid', 'rudi-kusaman', 1799, 'zviv', 1776, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Qf6,d4,exd4,O-O,dxc3,e5,Qg6,Nxc3,Nge7,Bg5,d6,Bxe7,Nxe7,exd6,Bxd6,Re1,Bg4,Qd5,O-O-O,Qxf7,Qxf7,Bxf7,Bxf3,gxf3,Nf5,Be6+,Kb8,Bxf5,g6,Be4,a6,Kg2,g5,Rad1,h5,Bf5,Rdf8,Bh3,g4,fxg4,hxg4,Bxg4,Rxh2+,Kg1,Rfh8,f3,Rxb2,Ne4,Bf4,Nc3,Rhh2,Nd5,Bd6,Ne3,Rxa2,Be6,Raf2,Bd5,Bf4,Ng4,Rhg2+,Kh1,Rb2,Re4,Bd6,Re8+,Ka7,Rh8,b5,Rg1,Rgd2,Be4,b4,Rb1,Ra2,Ra8+,Kb6,Rb8+,Ka5,Ne3', 'Rh2+,Kg1,Bc5', 'https://lichess.org/training/dELAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('deMbS', 'Rapid', 'kalanos', 1851, 'profediegoalejandro', 1936, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,Bb4,a3,Bxc3,dxc3,O-O,Bd3,d5,cxd5,Nxd5,Bc2,f5,O-O,Be6,Nd2,Qe7,c4,Nb6,b3,Rad8,Qe2,f4,exf4,exf4,f3,Qc5+,Qf2,Qe5,Rb1,Nd4,Re1,Qf6,Ne4,Qf5,Bb2,Nxc2,Qxc2,Qf7,Ng5,Bf5,Ne4,Qg6,Rbd1,Rxd1,Rxd1,Re8,Qe2,Bxe4,fxe4,Qxe4,Qxe4,Rxe4,Rd8+,Kf7,Rb8,Re2,Bd4,Rd2,Bxb6,axb6,Rxb7,Rd7,Kf2,g5,h3,Kg6,Kf3,h5,b4,Kf5,c5,Rd2,cxb6', 'g4+,hxg4+,hxg4#', 'https://lichess.org/training/deMbS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DemIU', 'Blitz', 'Renfe', 1681, 'rasmi-ck', 1680, 'e4,Nc6,Nf3,e5,Bc4,Nge7,b3,d5,exd5,Nxd5,Bb2,Qd6,O-O,Be7,Re1,f6,Nc3,Nxc3,Bxc3,Bg4,Be2,O-O-O,a3,Bxf3,Bxf3,Nd4,Bg4+,f5,Bh3,g5,Bxd4,Qxd4,Bxf5+,Kb8,Qf3,Qxd2,Rxe5,Bd6,Rb5,c6,Qxc6,b6,h3,Rhf8,Be4', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/DemIU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dEnH4', 'Classical', 'KnottyChess24', 2227, 'TheRatRiverTrapper', 2101, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,a6,c5,b6,cxb6,Qxb6,e3,Bf5,Bd3,Bxd3,Qxd3,e6,O-O,Nbd7,e4,dxe4,Nxe4,Be7,Ned2,c5,Nc4,Qc7,Be3,O-O,Rac1,Rfd8,Qe2,cxd4,Nxd4,Rac8,Bd2,Qc5,Nxe6,fxe6,Qxe6+,Kh8,Rfe1,Nf8,Qf7,Rxd2,Nxd2,Qxc1,Rxc1,Rxc1+,Nf1,Ng6,h4,Bc5,g3,Ng4,h5,Nxf2,hxg6,Ne4+,Kg2,Rc2+,Kf3', 'Ng5+,Kg4,Nxf7', 'https://lichess.org/training/dEnH4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DEnIc', 'Rapid', 'mflowers', 1805, 'Budfy', 1834, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Bg4,Be2,Nc6,h3,Bf5,O-O,e6,c4,Nf6,Bg5,h6,Bh4,g5,Bg3,Bd6,Bxd6,Qxd6,c5,Qf4,g3,Qe4,Bd3', 'Qxd3,Qxd3,Bxd3', 'https://lichess.org/training/DEnIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DepBp', 'Rapid', 'paprikadobi', 2018, 'gmsamuel36', 2130, 'd4,e6,c4,Bb4+,Bd2,Nc6,e3,Nf6,Nf3,Bxd2+,Nbxd2,O-O,Bd3,d5,O-O,Re8,Rc1,e5,dxe5,Ng4,cxd5,Ncxe5,Nxe5,Nxe5,Bb1,Qxd5,Nf3,Nxf3+,Qxf3,Qxf3,gxf3,c6,Kh1,Be6,Rg1,Rad8,Rcd1,g6,h3,Kf8,Kh2,f5,f4,Bd5,b3,Be4,Bxe4,Rxd1,Rxd1,fxe4,Rd7,Re7,Rd8+,Kg7,Kg3,a6,h4,Kf6,Kg4,h5+,Kg3,Ke6,Rh8,Kd5,f5,gxf5,Rxh5,Rf7,Kf4,Ke6,Rg5,Rf6,h5,b5,Rg8,Kd5,Ra8,c5,Rd8+,Ke6,Ra8,Kd5,Rd8+,Kc6,a3,Kb6,Rd5,c4,bxc4,bxc4,Rd4,Rc6,Rd1,c3,Kxf5,c2,Rc1,Ka5,h6,Ka4,h7,Rc8,Kg6,Kxa3', 'Rxc2,Rxc2,h8=Q', 'https://lichess.org/training/DepBp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Deqbx', 'Rapid', 'zaiusbilongg1', 1781, 'victordik', 1691, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nd4,Nxd4,exd4,e5,c5,c3,c4,Qf3,Rb8,Bc2,d3,Bd1,Bb7,Qg3,g6,b3,Bg7,a4,Qe7,O-O,Bxe5,Qe3,d6,Re1,Nf6,f4,Ng4,Qg3,Nxh2,fxe5,O-O,exd6,Nf3+,gxf3,Qf6,axb5,axb5,bxc4,bxc4,Na3,Rbe8,Nxc4,Rxe1+,Qxe1,Qg5+,Kf1,Bc6,Ba3,Re8,Qf2,Qh5,Bb4', 'Qh1+,Qg1,Re1+,Kxe1,Qxg1#', 'https://lichess.org/training/Deqbx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Deqcw', 'Rapid', 'IHeartChess', 2056, 'amichai', 1993, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,Be2,Bd6,Bg5,Nbd7,Nbd2,h6,Bh4,Qe7,c4,c5,Rc1,O-O,O-O,b6,Re1,g5,Bg3,e5,dxe5,Nxe5,Nxe5,Bxe5,Qb3,Rad8,cxd5,Nxd5,Bxe5,Qxe5,e4,Bxe4,Bf3,Qd6,Nxe4,Qg6,Nxc5,Nf4,Ne4,Nd3,Nc3,g4,Be4,Nxc1,Rxc1,Qd6,Rf1,Kg7,Nd5,f5,Qc3+,Kg6,Bxf5+,Kxf5,Ne3+,Kg5,Qg7+,Qg6,f4+,Kh5,Qe5+,Kh4,f5,Qg5,Qg3+,Kh5,f6,Rde8', 'Rf5,Rxe3,Rxg5+,hxg5,Qxe3', 'https://lichess.org/training/Deqcw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dEQGp', 'Blitz', 'Nini900', 1806, 'cryptojack', 1833, 'e4,Nc6,d4,d6,Nf3,Nf6,Nc3,Bg4,d5,Ne5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,e5,Bg5,Be7,O-O,h6,Bh4,Nh7,Bg3,Bh4,Qg4,Bg5,h4,Bf6,Ne2,O-O,Bh2,Bxh4,Ng3,Bg5,Nf5,Nf6,Qg3,Nh5,Qg4,Nf6,Qg3,Nxe4,Qh3,Nf6,f4,exf4,Bxf4,Nh7,Rf3,Bxf4,Rxf4,Qf6,Raf1,Ng5,Qh5,Qd8,Nxh6+,gxh6,Qxh6,f6,Qg6+,Kh8', 'Rh4+,Nh7,Qxh7#', 'https://lichess.org/training/dEQGp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DEqHG', 'Rapid', 'RGDIRK_1981', 2156, 'impathak', 2161, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,b3,Bg7,Bb2,O-O,f4,Nc6,Nxc6,bxc6,Bd3,Qa5,O-O,Bg4,Qd2,Qb6+,Kh1,Bd7,e5,dxe5,fxe5,Nd5,Nxd5,cxd5,c4,dxc4,Bxc4,Bb5,Bd4,Qd8,Qc3,Bxc4,bxc4,e6,Bc5,Re8,Bd6', 'Qxd6,exd6,Bxc3', 'https://lichess.org/training/DEqHG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DerjS', 'Blitz', 'Wiltemberg', 1979, 'Darop', 2363, 'Nf3,Nf6,g3,e6,Bg2,d5,d3,Be7,O-O,O-O,h3,c5,Nc3,Nc6,Nd2,b6,e4,Bb7,f4,dxe4,Ndxe4,Nxe4,Nxe4,Nd4,c3,Nf5,g4,Nh4,Bh1,Bxe4,Bxe4,Rc8,Qe1,f5,gxf5,exf5,Bh1,Qxd3,Qxe7', 'Qg3+,Bg2,Qxg2#', 'https://lichess.org/training/DerjS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DEros', 'Blitz', 'taury885', 1824, 'saqws3', 1795, 'e4,c5,b4,Nc6,bxc5,e6,d4,d5,e5,b6,cxb6,Qxb6,Be3,Qb2,Nd2,Nxd4,Rb1,Nxc2+,Ke2,Ba6+,Kf3,Qxe5,Qxc2,Rc8,Qa4+,Ke7,Qxa6,Kf6,Qxc8,Nh6,Bd3', 'Qh5+,Kg3,Qg4#', 'https://lichess.org/training/DEros');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('deRPz', 'Rapid', 'soyolooo', 1934, 'erol_alp', 1958, 'd4,c5,Nf3,cxd4,Nxd4,e5,Nf5,d5,Ng3,Nc6,e3,Nf6,Nc3,Bg4,Be2,Bxe2,Qxe2,Be7,O-O,O-O,e4,Nd4,Qd3,dxe4,Ncxe4,b6,Nxf6+,Bxf6,f4,Qc7,fxe5,Bxe5,c3,Ne6,Rf3,Rad8,Qe2,a5,Be3,b5,Raf1,Bf6,Ne4,Be7,Qf2,Bd6,Bb6,Qb7,Bxd8,Qxe4,Bxa5', 'Bc5,Qxc5,Nxc5', 'https://lichess.org/training/deRPz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('deTvA', 'Blitz', 'clickresign', 2036, 'pawnster101', 2047, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,cxd4,cxd4,f6,exf6,Nxf6,O-O,Bd6,Nf3,O-O,Bf4,h6,Qd2,Bb4,Qc2,Bd7,a3,Be7,Ne5,Rc8,Qb1,Be8,h4,Bh5,f3,Qb6,Nxc6,Rxc6,g4,Be8,g5,Nh5,Be5,hxg5,hxg5,Bxg5,Bg6,Bf6,f4,Nxf4,Rxf4,Bxe5', 'Bh7+,Kh8,Rxf8#', 'https://lichess.org/training/deTvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DEuyO', 'Classical', 'Physika', 2025, 'Azwaw', 1863, 'd4,Nf6,Nf3,g6,c4,d5,g3,Bg7,Bg2,O-O,cxd5,Nxd5,O-O,b6,e4,Nf6,Nc3,Bb7,Re1,Na6,Bg5,h6,Bf4,g5,Bc1,c5,d5,Nd7,h4,g4,Nh2,h5,Nf1,Ne5,Ne3,Nb4,Nf5,Nbd3,Re3,Ba6,Nxg7,Kxg7,Bf1,c4,b3,b5,bxc4,bxc4,Bxd3,Nxd3,Rxd3,cxd3,Bb2,Rb8,Qd2,Qd6', 'Nb5+,Kh7,Nxd6', 'https://lichess.org/training/DEuyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DevC9', 'Rapid', 'mastepas', 1676, 'luisperezb2001', 1722, 'e4,c5,Nf3,a6,a3,Nc6,Bc4,e6,Ba2,b5,c3,Nf6,d3,h6,h3,Bb7,Bf4,Be7,Nbd2,d6,d4,cxd4,cxd4,Qc7,O-O,e5,dxe5,dxe5,Bh2,O-O,Qe2,Rad8,Rad1,Nb8,Bxe5,Qc6,Rfe1,Nbd7,Bg3,Nh5,Bh2,Qf6,b4,Nf4,Bxf4,Qxf4,Bd5,Bxd5,exd5,Rfe8,Qe4,Qf6,Nh2,Qb2,Ndf3,Bxb4,Qb1,Rxe1+,Nxe1,Qxa3', 'Nc2,Qc3,Nxb4', 'https://lichess.org/training/DevC9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dEVjs', 'Classical', 'mesutozcn', 1762, 'Chayetyo', 1866, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Nge7,d3,d5,exd5,exd5,Bb5,d4,Ne4,Bf5,Nxc5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/dEVjs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dEVwK', 'Rapid', 'Christos22', 1807, 'shishlov_a', 1762, 'e4,e5,Bc4,Nf6,d3,Be7,a3,O-O,h3,d6,Ne2,Nbd7,Ng3,a6,Nc3,b5,Ba2,c5,Nd5,Nxd5,Bxd5,Rb8,O-O,Nf6,Ba2,a5,f4,exf4,Bxf4,Be6,Qf3,c4,Nf5,cxd3,cxd3,b4,e5,dxe5,Bxe5,Bxf5,Bxb8,Bxd3,Rfd1,Bc5+,Kh1,Qxb8,Rxd3,bxa3,bxa3,Qb2,Rdd1,Bd4,Qb3,Qf2,Qc4,Bxa1', 'Qxf7+,Rxf7,Rd8+,Ne8,Rxe8#', 'https://lichess.org/training/dEVwK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DEY0I', 'Classical', 'gerardo94', 1776, 'SanMao', 1743, 'c4,e5,g3,Nf6,Nc3,Bb4,Bg2,Bxc3,bxc3,O-O,Nf3,Re8,d4,exd4,cxd4,d6,e3,Bg4,O-O,Nc6,h3,Bh5,Rb1,Rb8,Re1,h6,Qa4,a6,d5,Ne5,Nxe5,Rxe5,Bb2,Re8,e4,Bg6,Bxf6,Qxf6,Rxb7,Ra8,Rxc7,Re5,Rc6,Rae8,Rxa6,Bxe4,Bxe4,Rxe4,Rxe4,Rxe4,Ra8+,Kh7,Qc2,Qf3,a4,g6,Qb2', 'Re1+,Kh2,Rh1#', 'https://lichess.org/training/DEY0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DeYDX', 'Classical', 'manfelnav', 1744, 'PremAyarpallam', 1663, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,c3,Nf5,g4,Nd6,Bb3,Bxg4,f3,Bh3,d3,Qd7,Ba4,c6,Nxh3,Qxh3,dxc6,Ke7,Qe2', 'Qh4+,Qf2,Qxa4', 'https://lichess.org/training/DeYDX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('deYrf', 'Blitz', 'FM DG_001', 2449, 'chess-only-chess', 2496, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Be3,e6,Be2,b5,a3,Bb7,f3,Nbd7,O-O,Be7,Kh1,O-O,g4,h6,h4,Nh7,h5,Rc8,Bd3,Ne5,f4,Nc4,Bg1,Nxb2,Qe1,Nxd3,cxd3,Bh4,Qd2,Nf6,g5,hxg5,h6,gxh6,Nf3,Nh7,Nxh4,gxh4,Bd4,f6,Rg1+,Kh8,f5,e5,Qxh6,Qe7,Ne2,exd4,Nf4,Bxe4+,dxe4,Qxe4+,Rg2,h3', 'Qg7#', 'https://lichess.org/training/deYrf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DEz88', 'Bullet', 'GM Zhigalko_Sergei', 2863, 'GM DrNykterstein', 3134, 'e4,e5,Nf3,d6,Bb5+,c6,Ba4,Nf6,d3,Be7,O-O,O-O,c3,Nbd7,Re1,Nc5,Bc2,Bg4,Nbd2,Ne6,h3,Bh5,Nf1,Nd7,Ng3,Bxf3,Qxf3,Bg5,Be3,g6,Bb3,Bxe3,Qxe3,Kg7,d4,Nf4,Rad1,Qe7,Ne2,Nxe2+,Rxe2,Nf6,dxe5,dxe5,Red2,a6,a4,Rad8,a5,Rxd2,Rxd2,Rd8,Bc2,Rxd2,Qxd2,Qc7,b4,c5,Qd3,cxb4,cxb4,h5,g3,h4,gxh4,Nh5,Bb3,Qc1+,Kh2,Qf4+,Kg1,Qxh4,Qd7,Qg5+,Kh1,Qf4,Qxb7', 'Qf3+,Kg1,Qxb3', 'https://lichess.org/training/DEz88');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dEzJe', 'Rapid', 'nikolayslb1302', 2042, 'AvigdorStein', 1971, 'd4,c6,c4,d6,Nc3,h6,e4,g5,f4,g4,Nge2,h5,Ng3,Bg7,Be2,Nf6,O-O,Qa5,Bd2,h4,Nf5,Bxf5,exf5,Qxf5,d5,Qh5,dxc6,Nxc6,Nb5,Kd7,Bc3,a6,Nd4,Rag8,Nxc6,bxc6,c5,d5,Bxa6,Ne4,Be2,h3', 'Bxg4+,Qxg4,Qxg4+', 'https://lichess.org/training/dEzJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dezvp', 'Rapid', 'Nurjan76', 1960, 'Bason71', 1739, 'e4,c5,d4,e6,d5,exd5,exd5,Nf6,c4,Bd6,Be2,O-O,Nf3,a6,O-O,Re8,Nc3,Ng4,h3,Ne5,Be3,Qc7,Qc2,Nxf3+,Bxf3,Bh2+,Kh1,Be5,Rad1,d6,Ne4,Bf5,Nf6+,Bxf6,Qxf5,Nd7,Qc2,Ne5,Be2,Qd7,f4,Ng6,Bg4,Qd8,Rde1,Bh4,Re2,Bg3,Rf3,Qh4,Qf5,Re7,a3,Rae8,b4,Re4,bxc5,Bxf4,cxd6,Rxe3,Rfxe3', 'Rxe3,Rxe3,Bxe3', 'https://lichess.org/training/dezvp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DeZx9', 'Blitz', 'lampisgreat', 1717, 'Jeharo', 1611, 'e4,c5,b3,Nc6,Bb2,e5,Nf3,Nf6,Nc3,Be7,Qe2,O-O,O-O-O,a5,h3,b6,g4,Ba6,Qe1,d6,Bxa6,Rxa6,g5,Nh5,Ne2,Bxg5,Nxg5,Qxg5,Rg1,Qe7,Ng3,Nxg3,Rxg3,b5,Qg1,f6,Re1,b4,h4,a4,h5,axb3,cxb3,Rxa2,h6,g6,Rxg6+,hxg6,Qxg6+,Kh8,Rg1,Rd8,h7,Nd4', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/DeZx9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('df0IO', 'Rapid', 'Ramzi-becheikh', 1818, 'Mwf_93', 1824, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,g6,Nc3,Nxd4,Qxd4,Nf6,Be3,d6,Qd2,Bg7,O-O-O,Ng4,Bg5,f6,Bh4,Be6,f3,Ne5,f4,Nf7,h3,Qd7,g4,O-O-O,f5,gxf5,exf5,Bxf5,gxf5', 'Bh6,Qxh6,Nxh6', 'https://lichess.org/training/df0IO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('df19u', 'Rapid', 'Israel_Paz', 1631, 'philodendron68', 2027, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nc6,Nf3,g6,Bb5,Nh6,Ne5,Bd7,Nxd7,Qxd7,O-O,f6,Qf3,O-O-O,Be3,Nf5,a4,Bg7,a5,e5,dxe5,fxe5,Bg5,e4,Qh3,Rde8,Rfd1,Bxc3,bxc3,a6,Ba4,Qe6,Bxc6,Qxc6,Bd2,Kb8,Rdb1,Qc5,Rb6,e3,fxe3,Nxe3,Bxe3', 'Rxe3,Qxe3,Qxe3+', 'https://lichess.org/training/df19u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dF1e5', 'Classical', 'tito60', 1636, 'R221291', 1702, 'e4,e5,Nf3,Nc6,Nc3,Bc5,d3,Nf6,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,Be2,Nb4,c3,Nxd5,exd5,d6,b4,Bb6,a4,a6,O-O,O-O,Kh1,f5,c4,e4,Nd2,e3,fxe3,Bxe3,Nf3,g5,Ne1,g4,Nc2,Bg5,Qb1,c6,dxc6,bxc6,Nd4,Bd7,Nc2,c5,b5,axb5,axb5,Rxa1,Qxa1,f4,Qa6,Bc8,Qc6,f3,gxf3,Rf7,fxg4', 'Bb7,Rxf7,Bxc6+', 'https://lichess.org/training/dF1e5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dF2mK', 'Rapid', 'wcd44', 1764, 'amkXcome', 1938, 'f4,Nf6,Nf3,d6,e3,Nc6,Be2,Bg4,d3,Bxf3,Bxf3,e5,fxe5,dxe5,Nd2,Bd6,Bxc6+,bxc6,O-O,O-O,Nc4,Rb8,b3,h6,Bb2,Re8,Qf3,Qd7,e4,Qg4,Qe3,Rb5,h3,Qg6,Rf3,Nh5,Raf1,Re7,Qxa7', 'Bc5+,Qxc5,Rxc5', 'https://lichess.org/training/dF2mK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Df4nV', 'Rapid', 'baaarca', 1666, 'shibalboy', 1687, 'e4,c5,Bc4,d6,a3,Nf6,d3,Na6,h3,Nc7,Nf3,Be6,Bxe6,Nxe6,Nc3,g6,Nd5,Bg7,Nxf6+,Bxf6,Rb1,b5,O-O,a5,Be3,a4,Qd2,Rb8,Bg5,Nxg5,Nxg5,b4,Nf3,d5,exd5,Qxd5,c3,bxa3,bxa3,Rb3,Rxb3,axb3,Rb1,c4,d4,Qe4,Rb2,O-O,Qe3,Qd5,Ne5,Ra8,f3,Rxa3,Qe4,Ra1+,Kh2,Bxe5+,dxe5,Qe6,f4,f5,Qe2,Qd5,Rd2,Qc5,Rd4,Ra2,Qxc4+,Qxc4,Rxc4,b2,Rb4,Kf7,Kg3,e6,Kf3,Ke7,g4,Kd7,gxf5,gxf5,Kg3,Kc6,Kh4,Kc5,Kg5,h6+,Kf6,h5,Kxe6,Ra6+,Kxf5', 'Rb6,Rxb2,Rxb2', 'https://lichess.org/training/Df4nV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dF5RX', 'Classical', 'Reydelmar', 1952, 'nekja', 1889, 'e4,e6,d4,d6,Nf3,Be7,e5,Nd7,exd6,cxd6,c4,Ngf6,Nc3,O-O,Qc2,b6,Bg5,Bb7,Be2,Rc8,b3,d5,O-O,Bb4,a3,Bxc3,Qxc3,Qc7,Rac1,dxc4,bxc4,Bxf3,Bxf3,h6,Be3,Nd5,Qb2,Nxe3,fxe3,Nf6,d5,exd5,cxd5,Qd6,e4,Rxc1,Rxc1,Qf4,e5,Ne4,d6', 'Qe3+,Kf1,Nd2+,Qxd2,Qxd2', 'https://lichess.org/training/dF5RX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DF63m', 'Rapid', 'KingIsland', 1947, 'zxakari', 1765, 'd4,d5,h3,Nf6,a3,Bf5,Nf3,h6,e3,Nbd7,b3,e6,Bb2,c5,c3,b6,Be2,Be7,O-O,O-O,Bd3,Bxd3,Qxd3,Ne4,Nbd2,Ndf6,Nxe4', 'dxe4,Qd1,exf3', 'https://lichess.org/training/DF63m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DF6ZN', 'Rapid', 'turnamel', 2239, 'Struhdel', 1919, 'd4,e6,c3,d5,Bf4,Bd6,e3,Bxf4,exf4,Nf6,Nd2,Nbd7,Bd3,c5,Ngf3,c4,Bc2,O-O,O-O,h6,g3,Re8,Re1,Nh7,Ne5,Nxe5,fxe5,f6,f4,fxe5,Rxe5,Qf6,Nf3,Bd7,Qe2,Nf8,Re1,Ng6,Re3,a5,Bb1,b5,Qc2,Nf8,Nh4,b4,Re5,bxc3,bxc3,Rab8,f5,a4,fxe6,Rxe6,Rxe6,Bxe6,Qxa4,g5,Ng2,Bh3,Rf1,Qe6,Qc2,Bxg2,Kxg2,Qe3,Qf5,Qe6,Qxe6+,Nxe6,Bf5,Rb2+,Rf2,Rxf2+,Kxf2,Nc7,a4,Kf8,a5,Ke7,h4,Kd6,hxg5,hxg5,Kf3,Nb5,a6,Kc7,Be6,Nxc3,Kg4,Kb6,Kxg5', 'Ne4+,Kf4,c3,Bxd5,c2,Bxe4,c1=Q+', 'https://lichess.org/training/DF6ZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Df7sl', 'Blitz', 'Vrbamrda', 1941, 'roraim', 1842, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bg4,Ne5,Bh5,Qb3,b6,cxd5,Nxd5,Nxd5,Qxd5,Qxd5,cxd5,Bd2,e6,O-O-O,Bd6,Kb1,Nd7,f4,f6,Nxd7,Kxd7,Rc1,Rac8,Rxc8,Rxc8,e3,Bg6+,Ka1,Rc2,Bb5+,Ke7,Bc1,Rxg2,h4,Be4,a3,Rxb2,Bxb2,Bxh1,Bd3,h6,Kb1,g5,fxg5,fxg5,hxg5,hxg5,Be2,Be4+,Kc1,Bf5,Kd2,g4,Ke1,Kf6,Kf1,Kg5,Bc1,Kh4,Kg2,Be4+,Kg1,Kg3,Bd2,Bf3', 'Be1+,Kh3,Bf1+,Bg2,Bxg2#', 'https://lichess.org/training/Df7sl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dF8dF', 'Rapid', 'DandelionDon', 1829, 'Bujaridrizi', 1822, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bg5,Be7,Nc3,c5,Nf3,O-O,Bc4,Bg4,h3,Bxf3,Qxf3,Re8,O-O,Nbd7,Rfe1,Ne5,Qe2,Nxc4,Qxc4,Nh5,Bxe7,Qxe7,Nd5,Qd7,g4,Nf6,Nxf6+,gxf6,Rad1,Re6,Qxc5,b6,Qd5,Rae8,f3,Qa4,Qb3,Qa5,Qd5,Qb4,Qb3,Qc5+,Kf1,h5,Rd5,Qc7,Rxh5,d5,Qxd5,Qg3,Qd3,Qh2,Qe3,Qh1+,Ke2,Qh2+,Kd1,Qg3,Qh6,Rd6+,Ke2', 'Qg2+,Ke3,Qd2#', 'https://lichess.org/training/dF8dF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('df8Ww', 'Rapid', 'AndreyBaunov', 1704, 'Avversario', 1981, 'd4,d5,c4,c6,e3,Nf6,Nc3,e6,a3,Be7,c5,b6,b4,a5,Bb2,O-O,Bd3,Ba6,Nf3,Bxd3,Qxd3,Na6,b5,cxb5,Qxb5,bxc5,dxc5,Nxc5,Qe2,Rb8,Rb1,Nfe4,O-O,Bf6,Nd4,Bxd4,exd4,Nxc3,Bxc3,Ne4,Bb2,Qg5,f3,Nd2', 'f4,Qf5,Qxd2', 'https://lichess.org/training/df8Ww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DfaEZ', 'Rapid', 'obanebane', 1751, 'drusso', 1812, 'e4,c5,Bc4,a6,a3,d6,Nc3,Nf6,d3,Nc6,Bg5,e6,Nf3,Be7,Qd2,Qc7,O-O-O,Bd7,h4,b5,Ba2,Rb8,g4,b4,axb4,Nxb4,Bc4,Bb5,e5,Bxc4,dxc4,Qa5,exf6', 'Qa1+,Nb1,Na2#', 'https://lichess.org/training/DfaEZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DfApS', 'Blitz', 'Ketut-Sana', 2131, 'GM FakeBruceLee', 2645, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,h5,h3,h4,Ne2,Bf5,d4,e6,Be3,Be7,c4,Nbd7,Nc3,Qa5,Be2,O-O-O,O-O,Ne4,Rc1,g5,Nxe4,Bxe4,Nd2,Bg6,a3,Qc7,b4,f5,d5,g4,dxe6,Ne5,Bf4', 'Nf3+,Nxf3,Qxf4', 'https://lichess.org/training/DfApS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DFazA', 'Rapid', 'kanybekfury', 1851, 'Em_Oji', 1913, 'e4,e5,Nf3,d6,c3,h6,d4,exd4,cxd4,Nf6,Nc3,a6,Bf4,Bg4,Be2,Be7,e5,dxe5,Nxe5,Bxe2,Nxe2,O-O,O-O,Nc6,Nxc6,bxc6,Qa4,Qd5,Nc3,Qd7,Rfe1,Bd6,Bd2,Nd5,Ne4,Rfe8,Nc5,Bxc5,dxc5,Nf6,Bc3,Nd5,Rxe8+,Qxe8,Re1,Qd7,Rd1,Qe6,Re1', 'Nxc3,Rxe6,Nxa4', 'https://lichess.org/training/DFazA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFb0F', 'Rapid', 'Aleksey_933c', 1839, 'Alex_Gorik', 1732, 'e4,c5,Bc4,e6,Nc3,a6,a4,Qc7,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Bd3,Bb4,Nxc6,Qxc6,Bd2,d5,exd5,Nxd5,Nxd5,Bxd2+,Qxd2,Qxd5,Bb5+', 'axb5,Qxd5,exd5', 'https://lichess.org/training/dFb0F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DFbca', 'Classical', 'pepikero', 1732, 'nageshdesh456', 1663, 'b4,e5,Bb2,Nc6,b5,Nd4,e3,Ne6,Bxe5,d6,Bb2,Ne7,c4,Nc5,d4,Ne4,d5,Nc5,Nf3,Nf5,Nc3,Qe7,Be2,g6,Na4,Bg7,Bxg7,Nxg7,Qd4,O-O,Nxc5,dxc5,Qc3,a6,a4,axb5,cxb5,b6,O-O,Bg4,h3,Bf5,Ne5,Be4,Rfd1,Qg5,Nf3,Qd8,Qc4,Re8,Nh2,Re5,Bf3,Bxf3,Nxf3,Rf5,e4,Rf4,Rd3,Qf6,Re1,Nf5,g3,Nxg3,fxg3,Rxf3,e5,Qf5,g4', 'Qxd3,Qxd3,Rxd3', 'https://lichess.org/training/DFbca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DfCeY', 'Classical', 'ALIREZA__B', 1758, 'S0phisto', 1755, 'd4,Nf6,Nf3,d5,Nc3,b6,e3,c5,dxc5,bxc5,Bd2,Qb6,Nb5,Ba6,a4,Nc6,Bc3,e6,Be2,Be7,O-O,O-O,b3,Ne4,Bb2,Bxb5,Bxb5,a6,Bxc6,Qxc6,Ne5,Qc7,Qg4,Bf6,Nd3,Bxb2,Nxb2,Rab8,f3,Nf6,Qh4,c4,Rab1,cxb3,cxb3,Rxb3,Rfc1,Qb6,Rc2,Qxe3+,Kh1,Rfb8,Qg3,Rxb2,Rcxb2,Rxb2', 'Qb8+,Rxb8,Rxb8+,Ne8,Rxe8#', 'https://lichess.org/training/DfCeY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DFCsH', 'Blitz', 'FM wanyaland', 2405, 'Waign', 2199, 'd4,Nf6,c4,e6,Nf3,d5,g3,c6,Bg2,Be7,Nc3,O-O,O-O,b6,Qd3,Ba6,b3,Nbd7,e4,dxe4,Nxe4,Nxe4,Qxe4,Rc8,Rd1,Qc7,Ne5,Nxe5,dxe5,c5,Bf4,Rcd8,h4,h6,h5,Rxd1+,Rxd1,Rd8,Re1,Rd4,Qe2,Bb7,Be3,Rd8,Bxb7,Qxb7,Qg4,Kh7,Kh2,Qd7,f4,Qd3,Kh3,Qe4,Bf2,Qc2,Re2,Rd2,Rxd2,Qxd2,Kg2,Qxa2,f5,exf5,Qxf5+,Kg8,e6,fxe6,Qxe6+,Kf8,Qf5+,Bf6,Qf3,Kg8,Kh3,Qc2,g4,Bg5,Bg3,Bf6,Bf4,Qc3,Qxc3,Bxc3,Bb8,a6,Ba7,Ba5,Kg3,Kf7,Kf4,g6,Ke4,b5,cxb5,axb5,Bxc5,Bd8,Be3,gxh5,gxh5,Bg5', 'Bxg5,hxg5,Kf5', 'https://lichess.org/training/DFCsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dfCVI', 'Rapid', 'Raghav89', 1665, 'pranjal1006', 1650, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,Ba4,Bd7,h3,Nf6,d3,Rc8,Bg5,e5,Qf3,Be6,Bxf6,Qxf6,Qxf6,gxf6,Bxc6+,Rxc6,c3,Rg8,g3,Bc5,Ne2,Bf5,Nc1,Bf8,Nd2,Bh6,g4,Bg6,f3,f5,Ke2,fxg4,hxg4,Bg7,Ndb3,b6,Nd2,Rh8,Ncb3,h5,Rh2,hxg4,Rxh8+,Bxh8,fxg4,f6,Rf1,Bf7,Nf3,Be6,Nh2,Rc7,Rg1,Bg7,Nf3,Bh6,Rh1,Bg5,Nxg5,Bxg4+,Ke3,fxg5,Rg1,Bc8,Rxg5,Re7,Nd2,Kf7,Nf3,Kf6,Rg8,Be6,Rf8+,Kg7,Rd8,Kf6,Rh8,Bg4,Rh4,Bxf3,Kxf3,Rg7,Rh6+,Rg6,Rh7,a5,Rb7,Kf5,Rf7+,Rf6,Rh7', 'Kg6+,Ke2,Kxh7', 'https://lichess.org/training/dfCVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DFend', 'Bullet', 'polemusa', 2090, 'Sixtensson', 2141, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,Nxd4,Bxd4,Qa5,f3,d6,Qd2,Be6,Bxe6,fxe6,O-O-O,e5,Be3,Rfc8,Kb1,Rc4,Nd5,Qxd2,Rxd2,Nxd5,Rxd5,Rac8,c3,a6,Rhd1,Kf7,h4,h5,R5d3,Ke6,Bg5,Bf6,Bxf6,Kxf6,Kc2,b5,b3,R4c7,Kb2,g5,hxg5+,Kxg5,Rh1,h4,Rh3,Rh8,Rd1,Rcc8,Rdh1,Rh5,g3,Rch8,g4,R5h7,Kc2,Rf8,Kd3,Kf4,Ke2,Rfh8,R1h2,a5,c4,bxc4,bxc4,e6,Kd3,d5,cxd5,exd5,exd5,Rd8,Rxh4,Rxd5+,Kc4,Rd4+,Kc3', 'Rc7+,Kb2,Rb4+,Ka1,Rc1#', 'https://lichess.org/training/DFend');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFfiv', 'Blitz', 'necky0', 1675, 'pleutre_eclair_et', 1571, 'e4,d5,e5,c5,d4,cxd4,Qxd4,Nc6,Qa4,f6,exf6,Nxf6,Bg5,e6,Bd3,Bd7,Nf3,Ne5,Qb3,Nxf3+,gxf3,h6', 'Bg6+,Ke7,Qa3#', 'https://lichess.org/training/dFfiv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFfMt', 'Rapid', 'tkhands', 1759, 'Dorst', 1755, 'd4,d5,Nf3,e6,c4,Nf6,Nc3,Be7,e3,Nbd7,Bd3,dxc4,Bxc4,Nb6,Bb3,Nbd5,O-O,c6,Re1,O-O,a3,Bd7,Qd3,b6,Bc2,c5,e4,Nxc3,bxc3,g6,e5,c4,Qxc4,b5,Qd3,Nd5,a4,a6,Bb3,bxa4,Bxa4,Bxa4,Rxa4,Qc7,Bd2,Rfc8,Rc1,Nb6,Rxa6,Nc4,Rxa8,Rxa8,Be1,Ra2,Rc2,Ra1,Kf1,Ba3,Ke2,Qc6,g3,Qb5,Nd2,Rd1,Qxc4', 'Rxd2+,Rxd2,Qxc4+', 'https://lichess.org/training/dFfMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dfFQf', 'Rapid', 'chingizml', 1683, 'KV848', 1857, 'd4,Nf6,c4,d5,Nc3,Bg4,Nf3,e6,Bg5,Be7,cxd5,exd5,Ne5,O-O', 'Bxf6,Bxf6,Nxg4', 'https://lichess.org/training/dfFQf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DfgWj', 'Rapid', 'impathak', 1868, 'NNiicckk', 1823, 'e4,e6,d4,d5,Nc3,Nf6,Nf3,Bb4,e5,Nfd7,a3,Be7,Bd3,c5,dxc5,Bxc5,O-O,Nc6,Re1,O-O,Bg5,Be7,Bxe7,Qxe7,Nb5,a6,Nd6,Ndxe5,Nxc8,Nxf3+,Qxf3,Raxc8,Re3,Qf6,Qh5,g6,Rf3,Qe5,Qh6,Qg7,Qxg7+,Kxg7,c3,Ne5,Re3,Nxd3,Rxd3,Rc6,f4,Rfc8,Rad1,Rc4,Rd4,b5,Kf2,Rxd4,Rxd4,Kf6,g4,Ke7,h4,f6,a4,Rc4,Rxc4,dxc4,axb5,axb5,Ke3,Kd6,Kd4,h6,Ke4,e5,f5,g5,h5,Kc5,Kf3,b4,Ke4,bxc3,bxc3,Kd6,Kf3,Kd5,Ke3,e4,Ke2,Kd6,Kd2,Ke5,Ke3,Kd5,Ke2,Kc5,Kd2,Kd6,Ke2,Ke5,Ke3,Kd5,Ke2,Kc5,Kd2,Kb5,Ke3,Ka4', 'Kxe4,Kb3,Kd4,Kc2,Kxc4', 'https://lichess.org/training/DfgWj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DFHRi', 'Blitz', 'Aliresign', 2262, 'FM Doritos57', 2375, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,c4,dxc4,O-O,Nc6,Bxc4,cxd4,Bb5,Bc5,b4,Bb6,Bb2,Ne7,Nxd4,Bxd4,Qxd4,Qxd4,Bxd4,O-O-O,Be3,a6,Bxc6,Nxc6,Nc3,Nxb4,Rac1,Nc6,Na4,Kb8,f4,Rd3,Bc5,Rhd8,h3,Rd2,Bd6+,Ka7,a3,Be4,Rf2,Rxf2,Kxf2,f6,Nc5,Bd5,Rb1,Na5,Bc7,Rc8,Bxa5,b5,Nd7,Rc2+,Ke3,Rxg2,a4,Rg3+,Kd4,Rf3,axb5,Rxf4+,Kc5,Rc4+,Kd6,axb5,exf6,gxf6,Nxf6,Bb7,Bd8,Rc6+,Ke7,e5,Rxb5,e4,Nd7,Rh6,Ra5+,Ba6,Re5,Bd3,Ra5+,Kb7,Ra4,Bb5,Rb4,Kc6,Ne5+,Kc5,Rb3,Rh5,Nf7,Rd5,Bc7,Bd3,Bd6+,Kc4,Rb8,Kc3,Rc8+,Kd2,Bb4+,Kd1,Ke6,Rb5,Bd6,e3,Bg3', 'Bf5+,Ke7,Bxc8', 'https://lichess.org/training/DFHRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DfJVS', 'Blitz', 'Kucan', 2232, 'CM Regez', 2169, 'Nf3,Nf6,c4,g6,b4,Bg7,Bb2,d6,g3,O-O,Bg2,Bd7,O-O,Qc8,d3,Bh3,Nbd2,Nh5,Bxg7,Kxg7,e3,e5,Ne4,Bxg2,Kxg2,f5,Nc3,f4,exf4,exf4,Nd5,fxg3,fxg3,c6,Ne3,Na6,Qd2,Qd7,Qc3+,Kg8,Rae1,Rae8,a4,Nc7,h3,d5,Ng4,Qd6', 'Nh6#', 'https://lichess.org/training/DfJVS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFJwq', 'Rapid', 'koznazna', 1757, 'jomanuell', 1866, 'e4,c5,Nf3,d6,d4,cxd4,c3,a6,Bd3,e5,cxd4,exd4,Nxd4,Nf6,O-O,Be7,Be3,Nc6,Qc2,Nxd4,Bxd4,O-O,Nc3,b5,Rad1,Bg4,Be3,Bxd1,Rxd1,Rc8,e5,Nd5', 'Bxh7+,Kh8,Rxd5', 'https://lichess.org/training/dFJwq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFmmH', 'Rapid', 'Dimon77722', 1703, 'Troylan_John', 1696, 'Nf3,f5,Ne5,d5,e4,Qd6,Qh5+', 'g6,Nxg6,Qxg6,Qxg6+,hxg6', 'https://lichess.org/training/dFmmH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DfmsZ', 'Classical', 'Salomaocapablanca', 1750, 'Cannonball', 1764, 'e4,Nf6,d3,e5,Nf3,d6,Be2,h6,O-O,Be7,c3,O-O,Nbd2,b6,d4,Bb7,Bd3,Nbd7,Re1,d5,dxe5,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Rxe4,Bc5,e6,fxe6,Rxe6,Kh8,b4,Bd6,Bxh6,gxh6,Rxh6+,Kg8,Qd5+,Rf7,Ng5,Ne5,f4', 'Bc5+,bxc5,Qxd5', 'https://lichess.org/training/DfmsZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DfnDb', 'Blitz', 'Davenogood', 2497, 'GM Atomrod', 2372, 'g3,d5,Bg2,c6,c4,dxc4,Na3,Nf6,Nxc4,g6,Nf3,Bg7,O-O,O-O,d3,Nbd7,Bd2,Nb6,Na5,Re8,b4,e5,Rc1,a6,Qb3,Be6,Qb1,Qc7,Ng5,Bd7,Qb3,Bc8,Nxc6,bxc6,Rxc6,Qa7,Rxb6,Qxb6,Qxf7+,Kh8,Bxa8,h6,Qxg6,hxg5,Bxg5,Rf8,Be4,Kg8,Rc1,Bd7,Bxf6,Qxf6,Qh7+,Kf7,f3', 'Rh8,Qg6+,Qxg6,Bxg6+,Kxg6', 'https://lichess.org/training/DfnDb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DFNFl', 'Blitz', 'qweqwe123123', 2331, 'CM AAponte', 2393, 'd4,Nf6,Bf4,c5,e3,Qb6,Na3,d5,Nf3,e6,Nb5,Na6,Be2,Bd7,a4,c4,b3,Bxb5,axb5,Bb4+,Nd2,Qxb5,O-O,Bxd2,Qxd2,Ne4,bxc4,dxc4,Qa5,Qxa5,Rxa5,O-O,Bxc4,Nb4,Rb5,Nc6,Rxb7,Na5,Rc7,Nxc4,Rxc4,Nd2,Rc7,Nxf1,Kxf1,a5,Bd6,Rfb8,Ke2,a4,Rc3,g5,Bxb8,Rxb8,Ra3,Ra8,Kd2,Kf8,c4,Ke7,Kc3,Kd7,Ra2,Kc6,Kb4,Rb8+,Kxa4,e5,Ka3,exd4,exd4,Rd8,Rd2,Rb8,Rb2,Rd8,Rd2,Rb8,h3,h6,Ka4,Rb7,d5+,Kc5,d6,Kxc4,d7', 'Ra7#', 'https://lichess.org/training/DFNFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFNj0', 'Blitz', 'Markus_Frem', 1771, 'cocorabit', 1893, 'Nf3,c6,c4,e6,g3,d5,cxd5,exd5,Bg2,Nf6,O-O,Be7,Nc3,O-O,d3,Re8,Rb1,Nbd7,b4,Nf8,a4,b6,b5,c5,Ne5,Bb7,Nc6,Bxc6,bxc6,Rc8,Nb5,Rxc6,Nxa7,Re6,Bh3,Qc7,Nb5,Qc6,Bxe6,fxe6,Bg5,h6,Bxf6,Bxf6,e4,d4,Re1,Nd7,f4,e5,f5,Nf8,Qh5,Nh7,Nc7,Re7,Ne6,Rxe6,fxe6,Qxe6,Re2,Ng5,Reb2,Nh3+,Kg2,Ng5,Rxb6,Qa2+,Kh1,Qf2,Qg6', 'Qf3+,Kg1,Nh3#', 'https://lichess.org/training/dFNj0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dfnlb', 'Rapid', 'RJ48459', 1993, 'jaivantr2007', 2151, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,O-O-O,d5,Nb3,dxe4,fxe4,Ng4,Bf4,Qxd2+,Rxd2,e5,h3,exf4,hxg4,Bxc3,bxc3,Bxg4,Bc4,h5,Rd6,Rad8', 'Rxg6+,Kh7,Rxg4', 'https://lichess.org/training/dfnlb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFogy', 'Rapid', 'Alexey58', 2221, 'RogerRodriguez_UNFV', 2136, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c4,Nc6,Be3,Nf6,Nc3,d6,h3,O-O,Qd2,Qa5,Nb3,Qb4,Be2,Be6,Nd5,Qxd2+,Nxd2,Bxd5,exd5,Ne5,f4,Ned7,O-O,Rfe8,Bf3,b6,Rac1,Rac8,b4,e6,dxe6,fxe6,Nb3,d5,c5,bxc5,Nxc5,Nxc5,Bxc5,a6,Rfe1,Kf7,Be2,Ne4,Bxa6,Ra8,b5', 'Nxc5,Rxc5,Bd4+,Kf1,Bxc5', 'https://lichess.org/training/dFogy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFq7V', 'Blitz', 'Maria47', 1552, 'starwars22', 1531, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,d3,Nf6,Be3,Be7,Nbd2,O-O,Qb1,a6,a4,c6,b4,b5,axb5,cxb5,Bxb5,a5,bxa5,Rxa5,Rxa5,Qxa5,c4,Bxf3,gxf3,Nbd7,Ke2,Nc5,Bxc5,dxc5,Qb2,Bd6,Ra1,Qd8,Ra6,Nh5,Qa3,Nf4+,Kd1,Nxh3,Bc6,Nxf2+,Kc2,Qg5,Ra8,h5,Rxf8+,Bxf8,Bd5,Qe3,Qc3,Bd6,Qa3,h4,Qa8+,Bf8,Qe8,Qxd3+,Kc1,Qd4', 'Qxf7+,Kh8,Qh5#', 'https://lichess.org/training/dFq7V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DfTe2', 'Classical', 'figaro_1', 1898, 'Fenrirsanz', 1743, 'f4,c5,Nf3,e6,e3,Nc6,Bb5,Qc7,O-O,a6,Bxc6,Qxc6,b3,d5,Bb2,b5,Ne5,Qc7,d3,Nf6,Nd2,Be7,c4,O-O,Rc1,Bb7,g4,Nd7,Ndf3,Nxe5,Nxe5,f6,Nf3,Qc6,cxd5,exd5,Nd4,Qd7,Nf5,Rac8,Qe1,g6,Nxe7+,Qxe7,Qg3,Rfe8,Rce1,Qd6,Qh4,Qc6,Bxf6,Re6,Be5,d4,e4,Rce8,Qh6,Qd7,Rc1,Qe7,Rxc5,g5,Rc7', 'Rxh6,Rxe7,Rxe7', 'https://lichess.org/training/DfTe2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFThf', 'Blitz', 'BlueBoar', 1720, 'Rubivision', 1652, 'e4,c5,Nf3,e5,c3,c4,d4,exd4,Nxd4,Bc5,Bxc4,Nc6,Be3,Nxd4,Bxd4,d6,Bxg7,Qh4,O-O,Nh6,Bxh8,Ng4,h3,Bxf2+,Kh1,Ne3,Qe2,Bxh3,Qxf2', 'Bxg2+,Kg1,Qh1#', 'https://lichess.org/training/dFThf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DFU1m', 'Rapid', 'neiribeirao', 1839, 'Don-r', 1934, 'e4,e5,Nf3,Nc6,d4,d5,exd5,Qxd5,dxe5,Qxd1+,Kxd1,Bg4,Bb5,O-O-O+,Bd2,Nxe5,Be2,Bxf3,gxf3,Bc5,Ke1,Ne7,Nc3,Bxf2+,Kxf2,Rxd2,Rac1,N5c6,Rhd1,Rhd8,Ke1,Rxd1+,Rxd1,Nd4,f4,Nxc2+,Kf2,Nb4,Bg4+,f5,Bf3,Nd3+,Ke3,Nxb2', 'Bxb7+,Kxb7,Rxd8', 'https://lichess.org/training/DFU1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFuY5', 'Rapid', 'patoruzitom', 1943, 'lucci12', 2011, 'c4,c6,Nc3,Nf6,d4,d5,cxd5,cxd5,Nf3,a6,e3,Bf5,Be2,e6,O-O,Nbd7,Ne5,Nxe5,dxe5,Nd7,f4,Bc5,Kh1,Qh4,g3,Qh3,Qe1,O-O,Qf2,f6,exf6,Nxf6,Qg2,Qh6,h3,d4,exd4,Bxd4,g4,Bxc3,bxc3,Be4,Bf3,Bxf3,Rxf3,Qh4,Rg3,Ne4,Rf3,Qe1+,Kh2,Rad8', 'Re3,Qf2,Rxe4', 'https://lichess.org/training/dFuY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DFuZn', 'Rapid', 'axelpro446', 1968, 'CoffeeArabica', 2018, 'd4,Nf6,Nc3,d5,g3,c5,Bg5,Nc6,dxc5,e5,Nxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/DFuZn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dfv1w', 'Rapid', 'Singapore_Express', 2141, 'skj124325', 2169, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Bd3,Qxd4,Nf3,Qd8,Ne5,Bxd3,Nxd3,Nf6,Bd2,e6,Qe2,Na6,O-O-O,Bd6,Bc3,Qe7,Qf3,O-O-O,Rhe1,Nb4,Nf5,Nxa2+,Kd2,Qf8,Nxd6+,Qxd6,Be5,Qd5,Qf4,Nxh5', 'Qxf7,Rd7,Qxh5', 'https://lichess.org/training/Dfv1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dfv2c', 'Rapid', 'vladimir0172', 1679, 'Will2850', 1945, 'e4,g6,d4,Bg7,Nf3,d6,Bc4,Nf6,e5,dxe5,Nxe5,O-O,Be3,Nbd7,f4,Nxe5,fxe5,Nd5,Qd2,e6,Bh6,c6,Nc3', 'Qh4+,g3,Qxh6,Qxh6,Bxh6', 'https://lichess.org/training/Dfv2c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DFvCG', 'Blitz', 'SsuperJavii', 1526, 'TigerTad', 1523, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bf5,d4,c6,Bd3,Bxd3,Qxd3,Nf6,O-O,e6,Bg5,Nbd7,Rfe1,Bd6,Ne4,Nxe4,Rxe4,O-O,Rh4,g6,Bh6,Rfd8,Ng5,Bf8,Qf3,Qf5,Qxf5,exf5,Bxf8,Rxf8,Nxh7,Rfe8,Ng5,Re2,Rc1,Rae8,h3,Rd2,c4,Rxb2,Rh7,f6,Rxd7,fxg5,a4,Ree2,Rf1,Red2,d5,cxd5,cxd5,a6,Re1,Kf8,Rh7,Rxf2,Rh8+,Kg7,Rc8,Rxg2+,Kh1,Rh2+,Kg1,Rxh3,d6,Rd3', 'Re7+,Kf6,Rf8#', 'https://lichess.org/training/DFvCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFVFO', 'Rapid', 'silbergold', 2145, 'ScarFake', 1998, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,Bc4,Be6,Bxe6,fxe6,c4,Nf6,Nc3,Rb8,b3,Be7,Be3,O-O,Bxa7,Ra8,Be3,Nd7,O-O,Bf6,Bd4,e5,Be3,Qe7,Qc2,Bg5,Bxg5,Qxg5,Ne2,Nc5,Ng3,h5,Rad1,Ne6,Qd2,Nf4,f3,h4,Nf5,g6,Ne3,Ra7,Ng4,Rfa8,Ra1', 'Nh3+,gxh3,Qxd2', 'https://lichess.org/training/dFVFO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DfW3n', 'Rapid', 'tachozky', 1898, 'Przemek1231', 1850, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,a6,Nf3,b5,c5,Bf5,e3,e6,Ne5,Qc8,Be2,Nbd7,O-O,Be7,b4,O-O,h3,Nxe5,Bxe5,a5,a3,Bd8,Bxf6,Bxf6,f4,Be7,g4,Bg6,g5,f6,h4,fxg5,hxg5,Rf5,Bd3,Rf8,Bxg6,hxg6,Qg4,Kf7,Ra2,Rh8,Rd2,Rh5,Rh2,Qh8,Qg3,axb4,axb4,Ra3,Rc1,Qa8,Rb2,Qd8,Nd1,Bxg5,fxg5,Rxg5,Rf2+,Kg8,Rg2,Rxg3,Rxg3,Qf6,Nf2,Qh4,Kg2,Qh6', 'Rh1,Qh5,Rxh5', 'https://lichess.org/training/DfW3n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFXQM', 'Rapid', 'anupam67', 1629, 'GandalfderGrauen', 1651, 'e4,c5,Nf3,d6,Bc4,Nc6,h3,g6,d3,Bg7,a3,Nf6,c3,e5,O-O,O-O,Bg5,h6,Bh4,g5,Bxg5,hxg5,Nxg5,Nd7', 'Qh5,Nf6,Bxf7+,Rxf7,Qxf7+', 'https://lichess.org/training/dFXQM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dFXzj', 'Rapid', 'Vic_Vas_Tar', 2105, 'tedor', 2034, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,a6,a4,Nf6,O-O,e6,Qe2,Be7,Rd1,Qc7,Bf4,O-O,Rac1,e5,Be3,Bg4,h3,Bh5,g4,Bg6,Nd5,Qd8,Bb6,Qd7,Be3,Qd8,Bb6,Qd7,Nh4,Nxd5,Nxg6,Nxb6,Nxf8,Bxf8,Bb3,Nd4,Qe3,Nxa4,f4,Nc5,Bd5,Rb8,fxe5,dxe5,Rf1,Nce6,Rf2,Bc5,Rxc5,Nxc5,Rxf7,Qxf7,Bxf7+,Kxf7,b4,Nce6,Qf2+,Nf4,Kh2,Rc8,Qa2+,Kg6,Qa5,Rc2+,Kg1,Nxh3+,Kf1,Rf2+,Ke1,Nf3+,Kd1,Rd2+,Kc1,Nf2,Kb1,Nd3,Qc7,Rb2+,Ka1,Nd2', 'Qd6+,Kg5,Qxd3,Rb1+,Ka2', 'https://lichess.org/training/dFXzj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DFydz', 'Blitz', 'GM rasulovvugar', 2648, 'GM chesswarrior04', 2767, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nh3,Nf6,Nf4,Bh7,Bc4,e6,c3,Bd6,O-O,O-O,Qf3,Nbd7,Ngh5,Nxh5,Nxh5,Qxh4,g3,Qe7,Bd2,e5,Rae1,e4,Qg4,g6,Bxh6,Rfe8,Be3,Nf6,Nxf6+,Qxf6,Kg2,Qf5,Qxf5,gxf5,Rh1,Bg6,Rh4,Kg7,Reh1,Rh8,Bh6+,Kg8,Bg5,Rxh4,Rxh4,Kg7,Bh6+,Kf6,Bf4,Bxf4,Rxf4,Rh8,Rh4,Rxh4,gxh4,f4,Kh3,Bf5+,Kg2,Kg6,b4,Be6,Bxe6,fxe6,c4,b5,c5,a6,a3,Kh6,Kh2,Kg7', 'Kh3,Kf6,Kg4', 'https://lichess.org/training/DFydz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dfYe9', 'Rapid', 'PpPpBbBb', 1660, 'nareketibaryan', 1688, 'e4,e5,f4,exf4,Nf3,Nf6,Bc4,Bd6,d4,Nxe4,Qe2,Qe7,O-O,O-O,Nc3,Nxc3,Qxe7,Bxe7,bxc3,d6,Bxf4,Nc6,Rab1,Na5,Bb3,Nxb3,cxb3,c5,Rbe1,Bf6,Bxd6,Rd8,Bxc5,b6,Ba3,Bb7,Ne5,Bh4,Re3,f6,Nf3,Bxf3,Rexf3,Rd5,Rf4,Bg5,Rf5,Rad8,g3,Bd2,R1f3,Rxf5,Rxf5,Bxc3,d5,b5,Be7,Rd7,d6,a6,Kg2,Kf7,Rc5,Ba5,a4,Rb7,Rh5,h6,Kf3,Ke6,Rc5,Bb6,Rc6,bxa4,bxa4,a5,Ke4,g5,Kd3,f5,Kc4,f4,gxf4,gxf4,Kb5,f3,Rxb6', 'Rxb6+,Kxb6,f2', 'https://lichess.org/training/dfYe9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DfYQD', 'Rapid', 'MagnusVoronin', 1706, 'EricTheAlekhineDudee', 1910, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,g6,Bc4,Nb6,Bb3,Nc6,Qf3,e6,Be3,Bg7,Qh3,d6,Nf3,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Nc3,O-O,Rd1,Qf6,Ne4,Qg7', 'Bh6,Qh8,Bxf8', 'https://lichess.org/training/DfYQD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DfZEL', 'Rapid', 'hernymet', 2098, 'wdargor89', 2048, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,Nf3,Nc6,exd6,exd6,d5,Ne5,Nxe5,dxe5,Be2,Bd6,O-O,O-O,Nc3,Bf5,b3,e4,Be3,Qh4,g3,Qf6,Nb5,Be5,Bd4,Bxd4,Nxd4,Bh3,Re1,a6,Bg4', 'Bxg4,Qxg4,Qxd4', 'https://lichess.org/training/DfZEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dG03n', 'Rapid', 'theMasterZero', 1618, 'BR-Jonatas', 1619, 'e4,c5,Nf3,d6,Nc3,Nc6,Bc4,Nf6,Bxf7+,Kxf7,Ng5+,Kg8,O-O,h6,f4,Bg4,Qe1,hxg5,fxg5,Nh5,Nd5,e6,Qf2,exd5', 'Qf7+,Kh7,g6+', 'https://lichess.org/training/dG03n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dG0rv', 'Blitz', 'FM soldadoCR06', 2179, 'FM Cazulo97', 2306, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,g3,d6,Bg2,Nc6,O-O,e5,d5,Ne7,e4,Nd7,Ne1,f5,f3,Nf6,Be3,Nh5,exf5,gxf5,f4,Nf6,Kh1,Ng6,Nd3,Ng4,Bg1,Bd7,Qd2,b6,Rae1,a5,Nd1,Bh6,N1f2,exf4,Nxf4,Nxf4,Nxg4,fxg4,gxf4,Qh4,Bf2,Qf6,Bd4,Qh4,Bc3,Rae8,Qd4,Rxe1', 'Qh8+,Kf7,Qxh7+', 'https://lichess.org/training/dG0rv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dG14f', 'Rapid', 'mike007', 2087, 'crissam', 1983, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,O-O,d4,exd4,cxd4,Bb6,Bg5,d5,exd5,Qxd5,Nc3,Qd6,d5,Ne5,Ne4,Nxf3+,Qxf3,Qd8,Bc4,Kh8,Rad1,f6,Bf4,Ng6,d6,c6,d7,Bxd7,Be6,Ne5', 'Bxe5,fxe5,Rxd7', 'https://lichess.org/training/dG14f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dg1hb', 'Blitz', 'Chess_Marlian', 1990, 'Invincibleme101', 2159, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bc4,a6,Na3,b5,Naxb5,axb5,Bxb5,Bd7,O-O,Be7,f4,O-O,f5,Nd4,Bd3,Bc6,Kh1,d5,exd5,Nxd5,Ne4,f6,Ng3,Qb6,Qg4,Kh8,Nh5,Rg8,c3,Nb5,Rf3,Nd6,Rh3,e4,Nf4,Nxf4', 'Rxh7+,Kxh7,Qh4+,Nh5,Qxh5#', 'https://lichess.org/training/Dg1hb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DG2fW', 'Classical', 'Hraj15', 1801, 'den77777', 1653, 'e3,e5,b3,d5,Bb2,Nc6,h3,d4,Bb5,dxe3,Bxc6+,bxc6,fxe3,Qh4+,Kf1,Ba6+,d3,Bc5,Nf3,Qg3,Qe2,f6,Nc3,Ne7', 'Ne4,Qg6,Nxc5', 'https://lichess.org/training/DG2fW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dg5Bz', 'Rapid', 'jhujhu', 1918, 'seyyidbucak', 1937, 'e4,e6,d4,d5,e5,c5,Bb5+,Nc6,a4,Bd7,c3,Nxe5', 'dxe5', 'https://lichess.org/training/dg5Bz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DG5Mr', 'Rapid', 'Theluckyboy', 2009, 'GGbers', 2239, 'e4,e5,Nf3,Nf6,Nc3,Bb4,d3,Nc6,Bd2,d5,exd5,Nxd5,Nxd5,Bxd2+,Qxd2,Qxd5,Be2,f6,a3,Be6,h3,O-O-O,Qc3,g5,a4,h5,a5,a6,Nd2,Qxg2', 'Bf3,Qxf3,Nxf3', 'https://lichess.org/training/DG5Mr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dG5Wu', 'Rapid', 'p9753131540', 2031, 'Cureton', 1958, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,O-O,Be7,Be3,O-O,f3,Nbd7,Kh1,Qc7,Qe1,d5,exd5,Nxd5,Nxd5,Bxd5,Rd1,Bc6,c3,Rad8,Qf2,f5,Bc4+,Kh8,Be6,f4,Bd2,Rf6,Bh3,Rd6,Bc1,Nf6,Rxd6,Bxd6,Nc5,Bd7,Nxd7,Nxd7,Rd1,Nf6,Qc2,Re8,b3,e4,fxe4,Nxe4,c4,Bc5,Rf1,Be3', 'Bxe3,fxe3,Qxe4', 'https://lichess.org/training/dG5Wu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dg64W', 'Rapid', 'MatthewFigueiredo', 1632, 'FlippyT', 1651, 'e4,e5,Bc4,Nf6,Nc3,Bb4,d3,h6,Ne2,O-O,O-O,c6,f4,exf4,Bxf4,d5,Bb3,Bg4,h3,Bh5,a3,Bxc3,bxc3,dxe4,dxe4,Nxe4,Qxd8,Rxd8,Bc7,Bxe2,Rxf7,Nd2', 'Rd7+,Nxb3,Rxd8+', 'https://lichess.org/training/dg64W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dg73D', 'Rapid', 'AmirGaziyev', 1809, 'Dr_B', 1791, 'd4,c6,c4,d5,Nc3,Nf6,Bg5,e6,e3,h6,Bh4,Be7,Nf3,O-O,cxd5,exd5,Be2,Qb6,Rb1,Bf5,Bd3,Bxd3,Qxd3,Nbd7,O-O,Rfe8,Na4,Qa5,Qc2,Rac8,a3,c5,dxc5,Nxc5,Nxc5,Rxc5,Qd3,Ne4,Bxe7,Rxe7,b4,Rc3', 'Qxc3,Nxc3,bxa5,Nxb1,Rxb1', 'https://lichess.org/training/Dg73D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dg99y', 'Rapid', 'Gj1124', 1824, 'Tullamore', 1827, 'e4,d6,Bc4,Nf6,d3,e5,h3,Be7,Be3,c6,Nc3,d5,exd5,cxd5,Bb5+,Nc6,Bg5,O-O,Bxc6,bxc6,Nf3,Qc7,O-O,Ba6,Re1,h6,Bh4,Rfe8,Nxe5,Nd7,Bxe7,Rxe7,Nf3,Rae8,Rxe7,Rxe7,Qd2,Qb6,Re1,Rxe1+,Qxe1,Qxb2,Qe8+,Kh7,Qxd7,Qxc3,Qxf7,Qxc2,Ne5,Bxd3,Qxa7', 'Qc1+,Kh2,Qf4+', 'https://lichess.org/training/Dg99y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DGC8o', 'Rapid', 'Orient1962', 1734, 'cpglamming', 1732, 'd4,g6,Nf3,Bg7,c4,d6,Nc3,Nf6,e4,O-O,Bg5,Nbd7,Be2,c5,d5,a6,O-O,Rb8,a4,b6,Bf4,Nh5,Bg5,Ne5,Nxe5,Bxe5,Bxh5,gxh5,Qxh5,Kh8,Bh6,Rg8,f4,Bd4+,Kh1,f6,f5,Bd7,Rab1,Be8,Qe2,Bf7,Be3,Be5,Bf4,Bd4,Qd2,Qe8,Ne2,Be5,Bxe5,dxe5,b3,Bh5,Ng3,Qf7,Nxh5,Qxh5,Rg1,Rg4,Qe2,Rbg8,h3,Qh6,Rbd1,Rh4,Qd2', 'Rxh3+,gxh3,Qxh3+,Qh2,Qf3+', 'https://lichess.org/training/DGC8o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGcKm', 'Rapid', 'Koen', 1786, 'bozidar56', 1807, 'e4,e5,Nf3,c5,c3,Nc6,d4,cxd4,cxd4,exd4,Nxd4,Bb4+,Bd2,Nf6,f3,O-O,Nxc6,Bxd2+,Qxd2,dxc6,Qf2,Be6,Be2,Qa5+,Nc3,Rad8,O-O,a6,e5,Nd5,Ne4,Nf4,Nd6,Nd3,Bxd3,Qxe5,Nxb7,Rxd3,Nc5,Re3,Rfe1,Rxe1+,Rxe1,Qd5,Nxe6,fxe6,b3,Rd8,Qe2,Re8,g4,Qb5,Qxb5,cxb5,Kg2,Kf7,Kg3,h6,h4,g6,Kf4,Kf6,g5+,hxg5+,hxg5+,Kf7,Rd1,Ke7,Ke5,Rc8,Rd6', 'Rc5+,Kd4,Kxd6', 'https://lichess.org/training/dGcKm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DGdSl', 'Blitz', 'olomoucak', 2382, 'MateoReyes', 2407, 'd4,Nf6,Nf3,g6,c4,Bg7,g3,O-O,Bg2,d6,O-O,Nbd7,Nc3,e5,e4,exd4,Nxd4,a5,Re1,Nc5,h3,Re8,Rb1,c6,Bf4,Nh5,Be3,a4,Qc2,Qa5,Kh2,Nf6,b4,axb3,axb3,Qb4,Bd2,Qb6,Be3,Qc7,f4,h5,Bf2,h4,g4,Bxg4,Bxh4,Bd7,f5,Nh5,fxg6,fxg6,Nde2,d5+,Kh1,d4,Nxd4,Bxd4,Ne2,Bg7,b4,Ne6,c5,Qe5,Rbd1,Bc8,Rd6,Ra3,Red1,Nef4,Rd8,Nxg2,Rxe8+,Qxe8,Rd8,Qxd8,Bxd8,Ne3,Qd2,Ra1+,Nc1,Nf1,Qg5,Nfg3+,Kh2,Nxe4,Qe3,Be5+,Kg1,Bf5,Bg5,Nhg3,Qb3+,Kg7,Kg2,Nh5,Be3,Nf4+,Bxf4,Bxf4', 'Qb2+,Kf7,Qxa1,Bxc1,Qxc1', 'https://lichess.org/training/DGdSl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DGe62', 'Rapid', 'Gagai', 1709, 'vince09', 1730, 'e4,c5,Bc4,e6,Nc3,d6,d3,Nf6,Bg5,Be7,Bb5+,Bd7,Bc4,O-O,h4,d5,Bxf6,dxc4,Bxe7,Qxe7,dxc4,Nc6,Nf3,Rad8,Qe2,a6,O-O-O,e5,Qe3,Bg4,Rxd8,Rxd8,Nd2,Nd4,f3,Be6,h5,h6,Nd5,Qd7,g4,Bxd5,exd5,Qa4,Nb3,Qxa2,Qxe5', 'Nxb3+,cxb3,Qa1+,Kc2,Qxh1', 'https://lichess.org/training/DGe62');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGEgk', 'Classical', 'divakar1999', 1820, 'mistervacuo', 1850, 'e4,e5,Nc3,d5,Nxd5,Nf6,Nxf6+,Qxf6,d3,Nc6,Nf3,Bg4,Bg5,Bxf3,Qxf3,Qxg5,h4,Qf6,Qd1,Bc5,f3,Qf4,Rh3,Qe3+,Qe2,Nd4,Qxe3,Nxc2+,Kd1,Nxe3+,Ke2,Nxf1,Kxf1,O-O-O,Ke2,Rd4,Rc1,Bb6,Rg3,g6,h5,Rhd8,Rd1,c5,b3,R8d6,Rh3,g5,g3,g4,fxg4,Bd8,Rhh1,Bg5,Rhf1,Rf6,Rxf6,Bxf6,Rf1,Rd6,Rf5,h6,g5,hxg5,h6,Kd7,h7,Ke6', 'Rxf6+,Kxf6,h8=Q+', 'https://lichess.org/training/dGEgk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGeyK', 'Rapid', 'sammybeliz', 1908, 'AntonSmit47', 1863, 'b3,c5,Bb2,d5,Nf3,d4,c3,Nf6,cxd4,Nc6,dxc5,Nd5,e3,Bf5,Bb5,Nb4,Na3,Bd3,Rc1,Bxb5,Nxb5,Nd3+,Ke2,Nxb2,Qc2,Nb4,Qxb2', 'Qd3+,Kd1,Qxb5', 'https://lichess.org/training/dGeyK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DgG0j', 'Blitz', 'Habanaclub_2020', 1810, 'reyrada', 1825, 'd4,Nf6,Bf4,e6,Nf3,d5,e3,Be7,Nbd2,Nh5,Be5,f6,c3,fxe5,Nxe5,Nf6,Bd3,Nc6,f4,Ne4,Nxe4,dxe4,Qh5+,g6,Nxg6,hxg6,Qxh8+,Kd7,Qxd8+,Bxd8,Bxe4,b6,Bxg6,Ba6,O-O-O,Be7,e4,Rg8,f5,Bg5+,Kc2,Ne7,fxe6+,Kxe6,d5+,Ke5,Bf7,Rf8,Be6,Ng6,Bf5,Nf4,g3,Ng2,h4,Be7,Kb3,Ne3,Rd2,Nxf5,exf5,Rxf5,g4,Rf4,g5,Bc4+,Kc2,Bxd5,Re1+,Be4+,Kb3,Rxh4,g6,Rg4,Rd7,Bf6,g7,Bxg7,Rxc7,Kf5,Rf7+,Kg6,Rxa7,Bd5+,Kc2,Be4+,Kb3,Bd5+,Ka3,Bf8+,b4,Rg3,Rc7,Rg2,c4,Rg3+,Ka4,Bf7,Rc6+,Kg7,Rxb6,Bxc4,a3,Rg5,Rc1,Bd3,Rc7+,Kg8,Rb8,Be2,Rcc8', 'Bd1+,Rc2,Bxc2#', 'https://lichess.org/training/DgG0j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dggbB', 'Bullet', 'TalkerPro', 1553, 'abhijeetp', 1569, 'e4,e6,Nf3,b6,Nc3,Bb7,d4,Bb4,e5,Ne7,Bd2,Ng6,Bd3,O-O,h4,Bxf3,Qxf3,Nc6,h5,Nxd4,Qe4,Bxc3,bxc3,Nxc2+,Bxc2,d5,Qd3,c5,hxg6,fxg6,Qh3,h6,Bxg6,d4,Bxh6,dxc3,Bxg7', 'Qd2+,Kf1,Qxf2#', 'https://lichess.org/training/dggbB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DGGij', 'Rapid', 'GrdoviciArilje', 1969, 'black-suat', 1953, 'f4,d5,d4,Bf5,e3,Nf6,Nf3,e6,Bd3,Bg6,O-O,c5,c3,Nc6,Bb5,a6,Bxc6+,bxc6,Ne5,Qb6,Qa4,Rc8,Nd2,Qb5,Qxb5,cxb5,h3,Bd6,g4,Bxe5,fxe5,Ne4,Nxe4,Bxe4,Bd2,h5,g5,h4,Kh2,g6,Rf6,Rc7,Raf1,Rh5,dxc5,Rxg5,R1f2,Bf5', 'e4,Rg3,exf5', 'https://lichess.org/training/DGGij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGGNZ', 'Blitz', 'demo12', 1782, 'Aracaju', 1917, 'e4,c5,Nf3,Nc6,Bc4,d6,c3,Nf6,Qc2,e6,O-O,Be7,d3,O-O,Be3,Qc7,a3,a6,b4,b6,Nbd2,Bb7,Rad1,Rac8,b5,axb5,Bxb5,Na7,a4,Rfd8,Qb3,Rb8,Rc1,Bc8,Nc4,d5,exd5,Nxd5,Qc2,Nxb5,axb5,Qd7,Rb1,Ra8,Rfd1,Qc7,Nce5,Bd6,Nc6,Re8,c4,Nxe3,fxe3,Qb7,Rf1,Qc7,Qf2,Rf8,Ng5,h6,Ne4,Bb7,Nxd6,Qxd6,Qf3,Rac8,e4,Bxc6,bxc6,Qxc6,Qf4,Rb8,Rf3,f6,Rg3,Kh8,Qg4,Rf7,Qg6,Rbf8,Rh3,Qe8,Rf1,Qe7,Rff3,e5,Rfg3,Qd7', 'Rxh6+,gxh6,Qxh6+,Rh7,Qxf8#', 'https://lichess.org/training/dGGNZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGgZK', 'Blitz', 'BrandonDlS', 1746, 'mustafav', 1697, 'c4,e5,Nc3,Bc5,g3,Nf6,Bg2,c6,d3,d5,cxd5,cxd5,Nf3,d4,Na4,Qa5+,Bd2,Bb4,Bxb4,Qxb4+,Nd2,Bd7,b3,Nc6,O-O,O-O,Rc1,Bg4,h3,Bf5,Bxc6,bxc6,Rxc6,e4,dxe4,Nxe4,Nxe4,Bxe4,Rc4,Qb7,Nc5,Qe7,Nxe4,Qxe4,Qxd4,Qxe2,Rfc1,Qxa2,Rc7,Qxb3,Re7,Rad8,Rd7,Rxd7,Qxd7,h6,Rc7,a5,Ra7,Qb4,Qc7,Qe1+,Kg2,Qe4+,Kg1,Ra8', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/dGgZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGhgc', 'Blitz', 'HelenaGomez', 1804, 'ABHIRUP2011', 1820, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,Be6,Bb5,a6,Ba4,b5,Bb3,Bxb3,axb3,Nf6,Nc3,Be7,O-O,O-O,Bg5,h6,Bh4,Nh7,Bxe7,Qxe7,Nd5,Qd7,c4,f5,exf5,Rf6,Nxf6+,Nxf6,h3,Qxf5,cxb5,Nb8,bxa6,Nh5,d4,Nf4,dxe5,Qg6,Ne1,Nxh3+,Kh2,Nf4,Qf3,dxe5,Qxa8', 'Qh5+,Kg1,Ne2#', 'https://lichess.org/training/dGhgc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DGiee', 'Rapid', 'Twenty_Fifth_Baam', 2272, 'TorresEnSeptima', 2173, 'c4,c5,Nc3,Nc6,Nf3,Nf6,e3,g6,d4,d6,d5,Nb8,e4,Nbd7,Be2,Bg7,Bg5,O-O,Qd2,Re8,h4,a6,a4,Qc7,h5,Nxh5,Rxh5,gxh5,Bh6,Bf6,e5,Nxe5,Nxe5,Bxe5,Qg5+,Kh8,Qxh5,Rg8,Qxf7,Bd7,Bd3,Bg7,Ke2,Qd8,Rh1,Qf8,Bxg7+,Qxg7', 'Rxh7+,Qxh7,Qxh7#', 'https://lichess.org/training/DGiee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGiLP', 'Rapid', 'AboSlem', 1820, 'PatWin', 1814, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nxc6,bxc6,Bc4,Qb4+,Nd2,e5,O-O,Nf6,Re1,Be7,Bb3,O-O,Nf3,d6,a3,Qb7,h3,Nd7,Ng5,Nc5,Bxf7+,Rxf7,Nxf7,Kxf7,Qh5+,Kg8,Qe8+,Bf8,Bg5,Be6,Qh5,Qxb2,Rab1,Qxc2,Qh4,Qa2,Be7,Nd3,Ra1,Bxe7,Qxe7,Qxf2+,Kh1,Bxh3,Rg1,Qg3,Raf1,Bg4', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/dGiLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dgj2d', 'Rapid', 'Angelferal', 1850, 'Padelicia', 1805, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d6,Bg5,O-O,e3,Nbd7,Rc1,c5,d5,Nb6,Be2,e6,O-O,exd5,cxd5,Re8,e4,Qd7,Nd2,a6,f3,Qc7,Bf4,Nh5,Be3,Bxc3,Rxc3,Nxd5,exd5,b5,Ne4,b4,Rc1,f5,Nf2,Rxe3,f4,Nxf4,Bf3,Re8,Qd2,Nh5,Bxh5,gxh5,Qg5+,Qg7,Qxh5,Bb7,Rcd1,Rf8,Nh3,Qg6,Qf3,Rae8,Nf4,Qf6,Ne6,Rxe6,Qg3+,Qg6', 'dxe6,Qxg3,hxg3', 'https://lichess.org/training/Dgj2d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGK0O', 'Rapid', 'aviv_chess', 1879, 'NAO87', 1856, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,e6,Nf3,Nc6,Nc3,Bb4,a3,a6,axb4,Nxb4,O-O,O-O,h3,Bd7,Re1,b5,Bf1,Qe7,Bd2,Nbd5,Nxd5,Nxd5,Ne5,Qd8,Nxd7,Qxd7,Qg4,Nf6,Qg3,c5,dxc5,Qxd2,Red1,Qxb2,Bd3,Rac8,Rac1,a5,e4,b4,e5,Nd5,Qh4,g6,Qg5,Nc3,Rc2,Qb3,Rdc1,Rxc5,h4,Rd5,h5,Rxd3,h6,Nd5,Rc8,Rd1+,Kh2,Rxc1', 'Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/dGK0O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DgK74', 'Blitz', 'thelighter', 2372, 'GM Obiwankanoebi', 2547, 'd4,g6,c4,Bg7,Nc3,c5,Nf3,cxd4,Nxd4,Nc6,Nb3,Nf6,g3,O-O,Bg2,d6,O-O,Be6,Nd5,a6,Bd2,Rc8,Bc3,Nd7,Bxg7,Kxg7,Nd4,Bxd5,cxd5,Nxd4,Qxd4+,Kg8,Bh3,f5,Rac1,Qb6,Qh4,Nf6,Rxc8,Rxc8,e4,Rc4,Qg5,fxe4,Qh6,Qd8,Be6+,Kh8,Re1,Rc2,h4,Rc4,Kg2,Nh5,g4,Ng7,Bf7,Qf8,Bxg6,Qg8,Bxe4,Rd4,f3,Qf7,Kh3', 'Rxe4,fxe4,Qf3+,Kh2,Qf2+', 'https://lichess.org/training/DgK74');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DGkwg', 'Rapid', 'marty001', 1639, 'mikle127', 1634, 'c4,e5,g3,g6,Bg2,Bg7,Nc3,Nc6,Nf3,Nf6,O-O,O-O,d4,d6,e3,Be6,b3,Bg4,dxe5,Nxe5,h3,Nxf3+,Bxf3,Bxf3,Qxf3,c6,Rd1,Qc7,Ba3,Ne8,Rac1,Qa5,Bxd6', 'Nxd6,Rxd6,Bxc3', 'https://lichess.org/training/DGkwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGlQS', 'Rapid', 'Danny_Sky', 1605, 'Pachoman', 1642, 'e4,e5,d4,exd4,Qxd4,Nc6,Qa4,Qh4,Nf3,Qg4,Nc3,Nf6,Bd3', 'Qxg2,Rg1,Qxf3', 'https://lichess.org/training/dGlQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGOMr', 'Blitz', 'vsamas', 1743, 'Chadwek', 1782, 'd4,d5,c4,Nf6,Nc3,dxc4,e4,Bg4,f3,Bh5,Bxc4,c6,Nge2,e6,O-O,Nbd7,Bg5,h6,Bh4,Be7,Qb3,b5,Bd3,O-O,Rad1,a5,a3,a4,Qc2,Rc8,Nf4,Bg6,Nxg6,fxg6,e5,Nd5,Bxg6,Bxh4,Ne4,Ne3,Qd2,Nxf1,Rxf1,Bg5,f4,Be7,Rf3,c5,Rh3,cxd4,Qe2,Bc5,Qg4,d3+,Kh1,Nxe5,Qxe6+,Nf7,Ng5,d2', 'Bxf7+,Rxf7,Qxf7+,Kh8,Rxh6+,gxh6,Qh7#', 'https://lichess.org/training/dGOMr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DGoRx', 'Blitz', 'Yurecc', 2080, 'FM ptrujillo', 2237, 'd4,c5,d5,d6,c4,Nf6,Nc3,g6,e4,Bg7,Be2,O-O,Nf3,Na6,O-O,Nc7,h3,a6,a4,Rb8,a5,b5,axb6,Rxb6,Qc2,e6,Rd1,exd5,Nxd5,Nfxd5,cxd5,Nb5,Be3,Re8,Nd2,Nd4,Bxd4,Bxd4,Ra2,Qf6,Nf3,Rxb2,Rxb2,Bxb2,e5,Bxe5,Qa4,Re7,Qc6,Bf5,Nxe5,Rxe5,Bxa6,Be4,Bf1,Rg5', 'Qe8+,Kg7,Qxe4', 'https://lichess.org/training/DGoRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGp2k', 'Rapid', 'kacpergawlo', 1687, 'Zarulja', 1616, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,O-O,Bd6,d4,exd4,Nxd4,Be5,Nf3,Bxc3,bxc3,O-O,Bb2,Nxe4,Re1,d5,Bb3,Bf5,Bxd5,Nf6,Bb3,Bg4,h3,Bh5,Qe2,Re8,Qc4,Bxf3,Qxf7+,Kh7,gxf3,Ne5,Rxe5,Rxe5,c4,Rg5+,Kh2,Qd6+,Kh1,Nh5,Rg1,Qc6', 'Rxg5,hxg5,Qxh5+', 'https://lichess.org/training/dGp2k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dgPCU', 'Blitz', 'LaYucaReyChess', 2331, 'elvis1981', 2323, 'e4,c6,d4,d5,e5,Bf5,Be3,Qb6,Qc1,e6,c4,f6,c5,Qd8,f4,Nd7,Nc3,fxe5,fxe5,Nxe5,dxe5,d4,Bg5,Be7,Bxe7,Nxe7,Nce2,O-O,Nf3,d3,Ned4,Ng6,Qc4,d2+,Kxd2,Nxe5,Nxe5,Qg5+,Kc3,b5,Qe2,b4+,Kb3,a5,a4,bxa3,Kxa3,Qe7,Rc1,Rfb8,Ndxc6,Qb7,Nxb8', 'Qb4+,Ka2,Qa4#', 'https://lichess.org/training/dgPCU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dgPgU', 'Classical', 'Tura999', 1699, 'Antoninyofy', 1654, 'e4,e5,Nf3,c6,Bc4,Qb6,d3,Bc5,O-O,Nf6,Bb3,Ng4,Qe2,Na6,Bxf7+,Kf8,Bh5,d6,Bxg4,Bxg4,Be3,Kf7,Bxc5,Nxc5,b3,Rhf8,h3,Bxf3,Qxf3+,Kg8,Qg3,Rf6,Re1,Qc7,Re3,Raf8,Re2,Qd7,Nd2,Rg6,Qe3,d5,Qxc5,Qxh3,f3,Rff6,exd5,b6,Qf2,Rh6,Kf1,Qh1+,Qg1,Qh4,Rxe5,c5,Rae1,Qf4,Ne4,Rf8,Nc3,Qg3,Re6,Rxf3+,gxf3', 'Qxf3+,Qf2,Rh1#', 'https://lichess.org/training/dgPgU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DgPX2', 'Blitz', 'Amat0r', 1982, 'FletchMK64', 2022, 'd4,Nf6,Nf3,g6,e3,d5,Bd3,Bg7,O-O,c5,c3,Nc6,Ne5,O-O,f4,c4,Bc2,Nd7,Qf3,Ndxe5,fxe5,b5,a3,a5,Nd2,e6,h3,Bb7,e4,Ne7,exd5,Bxd5,Be4,f6,Bxd5,Nxd5,Qg4,Qe7,exf6,Rxf6,Nf3,Raf8,Bg5,Qb7,Bxf6,Rxf6,Ne5,Ne3,Rxf6,Nxg4,Nxg4,Bxf6,Nxf6+,Kg7,Ng4,b4,axb4,axb4,Re1,bxc3,bxc3,Qd5,Re5,Qd7,Kh1,h5,Nh2,Qa4,Nf3,Qa1+,Kh2,Qxc3,Rxe6,Qa1,d5,c3,Rc6,Qb2,d6,c2,d7,c1=Q,d8=Q,Qxc6,Qe7+,Kh8', 'Qf8+,Kh7,Ng5#', 'https://lichess.org/training/DgPX2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DgQ6R', 'Rapid', 'mMoustafa', 1774, 'mousaie1337', 1760, 'e4,g6,Nf3,Bg7,Nc3,c6,Bc4,a5,a3,b5,Ba2,Bb7,O-O,Na6,d3,b4,axb4,axb4,Ne2,Nc5,Ng3,Nf6,d4,Na4,Ng5,O-O,e5,Nd5,Be3,Nxe3,fxe3,Nxb2,Bxf7+,Kh8,Qb1,h6,Bxg6,hxg5,Qxb2,c5,Nf5,Qc7,Nxe7,d6,Nf5,Qc6,c3,dxe5,Nxg7,Qxg6,dxc5,Qxg7,Qxb4,Rxa1,Rxa1,Qd7', 'c6,Bxc6,Qxf8+', 'https://lichess.org/training/DgQ6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DGsHg', 'Rapid', 'Limmero', 1728, 'Barkas216', 1718, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,Nxe4,Qe2,d5,f3,Nf6,Bg5,Be6,Nc3,h6,Bd2,c6,O-O-O,Nbd7,Nxd7,Qxd7,Re1,Bb4,f4,O-O,a3,Bxc3,Bxc3,Ne4,Bb4,Rfe8,g3,Bg4,Qg2,b6,Bd3,Nf6,h3,a5,Bd2,Bf5,Bxf5,Qxf5,g4,Qd7,g5,Ne4,gxh6,g6,h4,Nxd2,Qxd2,Qg4,h5,Rxe1+,Qxe1,gxh5', 'Rg1,Kh7,Rxg4', 'https://lichess.org/training/DGsHg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dgsUm', 'Blitz', 'Tarzan_10', 1697, 'CM VictorSaiyajin', 2232, 'd4,c5,d5,Nf6,c4,d6,Bg5,g6,Bxf6,exf6,Nc3,Bg7,e4,O-O,Nf3,f5,exf5,Bxf5,Be2,Qa5,O-O,Bxc3,bxc3,Qxc3,Rc1,Qf6,Qd2,Nd7,h3,Rfe8,Bd3,Nb6,Rce1,Kg7,Re3,Rxe3,fxe3,Bxd3,Qxd3,Re8,Nh2,Qe5,Ng4,Qe4,Qc3+,Re5,Nxe5,dxe5,Rf4,Qb1+,Kh2,f6,Rg4,Nc8,h4,Qf5,Rg3,Nd6,Qa5,Qc8,h5,Nf5,Rf3,Qb8,Qc3', 'e4+,Rf4,g5', 'https://lichess.org/training/dgsUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dgu4B', 'Blitz', 'NM janisdaudz', 2077, 'abracatlincoln', 1986, 'f4,d5,Nf3,Nf6,g3,c5,Bg2,Bf5,O-O,e6,d3,Nc6,Qe1,Be7,Nc3,d4,Nd1,Nb4,Qd2,Nbd5,e4,dxe3,Nxe3,Qc7,Nxf5,exf5,h3,O-O,b3,Rfe8,Bb2,Bf8,Rae1,Nh5,Kh2,Rad8,Ne5,Be7,Nf3,b6,Nh4,Bxh4,gxh4,Ndxf4,Kg1,Nxh3+', 'Bxh3,Qg3+,Bg2', 'https://lichess.org/training/dgu4B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dGUB0', 'Rapid', 'chess-angel', 1659, 'Hilmar1', 1617, 'd4,c5,c3,cxd4,cxd4,d5,Nc3,Nf6,Nf3,Bf5,e3,Nc6,Ne5,Nb4,Qa4+,Nc6,Nxc6,bxc6,Qxc6+,Bd7,Qb7,e6,Bb5,Rb8,Bxd7+,Nxd7,Qa6,Bb4,O-O,O-O,e4,dxe4,Nxe4,Qh4,f3,Rfd8,Qe2,f5,Bg5,Qh5,Bxd8,fxe4,Bc7,Rc8,Bg3,Rf8,Qxe4,Nf6,Qb7,a5,a3,Bd2,Rad1,Be3+,Kh1,Qh6,Rfe1,Nh5,Rxe3', 'Nxg3+,Kg1,Qxe3#', 'https://lichess.org/training/dGUB0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dgVWZ', 'Blitz', 'notGood_3', 1596, 'Weekend007', 1573, 'e4,e6,Nc3,d5,exd5,exd5,Nf3,d4,Ne2,c5,d3,Nf6,Bg5,Be7,Ng3,O-O,Ne4,b6,h3,Nc6,Be2,Bf5,Nxf6+,Bxf6,Bxf6,Qxf6,Qd2,Ne5,O-O-O,a5,Kb1,b5,Nxe5,Qxe5,Bf3,Ra7,Rhe1,Qf6,Re2,b4,b3,a4,Kb2,axb3,cxb3,Qa6,Kb1,Bc8,Bd5,Bb7,Bc4,Qb6,f3,Rfa8,Rde1,Kf8,Re7,Ba6,Rxa7,Rxa7,Qf4,Bxc4,dxc4,f6,Qe4,Kf7', 'Qe8#', 'https://lichess.org/training/dgVWZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DGW6J', 'Rapid', 'dofranck', 2061, 'Ivantri', 1963, 'e4,c5,Nf3,e6,d3,Nc6,g3,g6,Bg2,Bg7,O-O,Nge7,c4,O-O,Nc3,Nd4,Nxd4,cxd4,Ne2,d5,Bg5,f6,Bd2,f5,Bb4,dxe4,dxe4,Re8,exf5,gxf5,Nf4,e5,Nh5,Nc6,Nxg7,Kxg7,Bd2,Qf6,h4,h6,b4,e4,Rc1,Ne5,Qh5,Qg6,Qxg6+,Kxg6,Bf4,Nd3,Rc2,Nxb4,Rd2,d3,Bd6,Nc6,f3,Re6,c5,Nb4,fxe4,fxe4,Rb2,Nc2,Rf8,e3,h5+,Kg7,Bd5,e2,Bxe6,e1=Q+,Kh2,Bxe6', 'Rxb7+,Bd7,Rxd7+', 'https://lichess.org/training/DGW6J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dgWt8', 'Blitz', 'ranger85', 1540, 'leannor', 1537, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,a3,a5,Nc3,Nf6,O-O,O-O,Be3,Be7,h3,Re8,Nh2,Bf8,f4,exf4,Bxf4,d6,Nd5,Nxd5,Bxd5,Nd4,c3,Ne6,Be3,c6,Ba2,Ng5,Qh5,Be6,Nf3,Bxa2,Nxg5,Be6,Nxe6,fxe6,Qf7+,Kh8,Bxh6,Re7,Qf4,gxh6,Rf3,e5,Qf5,Qd7,Qf6+,Kg8,Raf1,Bg7,Rg3,Kh7,Qg6+,Kh8,Rf5,Rg8,Rh5,Re6', 'Rxh6+,Bxh6,Qxg8#', 'https://lichess.org/training/dgWt8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dgXuw', 'Rapid', 'rossmerickson', 1946, 'silor380', 1774, 'e4,e5,f4,d5,exd5,e4,Nc3,Nf6,Bc4,Be7,Qe2,O-O,Nh3,Re8,Ng5,Qd6,O-O,a6,a4,Nbd7,b4,Nb6,Bb3,Nbxd5,b5,axb5,Nxb5,Qb6+,Kh1,Bd7,Bb2,Bxb5,axb5,Rxa1,Rxa1,Rf8,h3,h6,Nxe4,Nxf4,Qf3,Nxe4,Qxe4,Bg5,h4,Bf6,Bxf6,Qxf6,Rf1', 'Qxh4+,Kg1,Nh3+,gxh3,Qxe4', 'https://lichess.org/training/dgXuw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DgxYL', 'Rapid', 'lastronin', 1804, 'milad196', 1810, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,d6,Ng5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,d3,Bg4,f3,Bh5,g4,Bg6,h4,h6,h5,Bh7,Nd5,Nxd5,exd5,Qf6,Bd2,Na6,Qe2,Bb4,O-O-O,Bxd2+,Rxd2,Nb4,a3,Nxd5,d4,Re8,Qb5,Qxf3', 'Rf1,Qxf1+,Qxf1+', 'https://lichess.org/training/DgxYL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dgZew', 'Classical', 'CerebralAssassin19', 2056, 'JorgeMallada', 1861, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,h4,dxc4,Qa4+,Bd7,Qxc4,c6,Ng5,O-O,h5,Nxh5,Rxh5,gxh5,Qd3,f5,Qh3,Qe8,e4,fxe4,Bc4+,Kh8,Be6,h6,Bxd7,Nxd7,Ne6,Nf6,Nxf8,Qxf8,Be3,c5,O-O-O,Qf7,f3,cxd4,Bxd4,b5,Nxe4,Qxa2,Nxf6,Qa1+,Kd2,Qa5+,Ke3,exf6,Qxh5,Rd8,Qf7,Rxd4,Rxd4,Qe1+,Kd3,Qd1+,Ke4,Qc2+,Kd5', 'Qb3+,Kc6,Qxf7', 'https://lichess.org/training/dgZew');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dH056', 'Rapid', 'yadollah', 2092, 'floshift', 2096, 'e4,c5,Bc4,Nc6,c3,Nf6,d3,d6,Nf3,g6,Be3,Bg7,O-O,O-O,Nbd2,Ng4,h3,Nxe3,fxe3,Ne5,Nxe5,Bxe5,Nf3,Bg7,Qb3,e6,d4,Qc7,d5,e5,a4,Bh6,Rae1,Rb8,Nd2,f5,Rf3,f4,Ref1,g5,exf4,gxf4,Be2,Rf6,Nc4,Qf7,Qc2,b6,Ne3,Rg6,b4,Qg7,Ng4,Bxg4,hxg4,Rxg4,Bb5,Kh8,bxc5,bxc5,Qe2,Rg8,R1f2,Bg5,Bd7,Qxd7,Rh3,Bh4,Rff3,Bg3,Qa6,R4g6,Kf1,Rb8,Ke2,Rb2+,Kd3,Rxg2,Qc6,Rg7,Rf1,Qxc6,dxc6,Rc7,Rb1,Rh2,Rxh2,Bxh2', 'Rb8+,Kg7,Rb7,Rxb7,cxb7', 'https://lichess.org/training/dH056');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DH0ny', 'Blitz', 'Ponono', 1795, 'ChessLeveller', 1863, 'e4,c5,Nf3,d6,Bc4,a6,d4,b5,Bd5,Ra7,a3,e6,Ba2,cxd4,Nxd4,Nf6,Nc3,Bb7,Bg5,Be7,Bxf6,Bxf6,O-O,O-O,Re1,Qb6,Nf3,Nd7,Qd2,Nc5,e5,dxe5,Nxe5,Rd8,Qf4,Nd7,Ng4,Bxc3,bxc3,Qc6,f3,Qxc3,Rad1,Qc5+,Kh1,Qe7,h3,Nc5,Rxd8+,Qxd8,Ne5,Qe7,Rd1,Bd5,c4,bxc4,Bxc4,Bxc4,Qxc4,Rc7,Qd4,g6,Ng4,Nd7', 'Nh6+,Kf8,Qh8#', 'https://lichess.org/training/DH0ny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dh1oz', 'Blitz', 'Ghodakeg', 1723, 'rolvinschjki', 1716, 'e4,e5,d3,Nc6,h4,Nf6,Nc3,Bb4,Bd2,O-O,a3,Ba5,Nf3,d5,exd5,Nxd5,Nxd5,Qxd5,Be2,Re8,O-O,e4,dxe4,Qxe4,Bxa5,Nxa5,Bd3,Qf4,Re1,Rxe1+,Qxe1,Bg4,Rd1,Bxf3,gxf3,Nc6,Be4,Qxh4,Rd3,Qg5+,Kf1,Ne5,Rd5,Qh5,Qc3,Qh3+,Ke2,Nc6,Qd3,Re8,Kd2,Qh6+,Ke2,Qf6,Kd1,Ne5,Qc3,Ng6,Qxc7,Qh4,Qc5,Qh1+,Kd2,Nf4,Qc4,Qh6,Rd4,Ne6+,Ke2,Nxd4+,Qxd4,Qf6,Qd3,Qe7,Kf1,b6,Bxh7+,Kf8,Be4,g6,Qe3,Qd6,Qh6+,Ke7,Qg5+,Qf6,Qg4,Kf8,Qh3,Ke7,Qh2,Rf8,Qc7+,Ke8,Qb8+,Qd8', 'Bc6+,Ke7,Qe5#', 'https://lichess.org/training/Dh1oz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dh45q', 'Rapid', 'josecrach2067', 1758, 'ASongOfStyle', 1771, 'e4,a6,d4,b5,Nf3,e6,a4,bxa4,Rxa4,c5,c3,h6,Nbd2,Nf6,Bd3,Bb7,O-O,Be7,Re1,Nc6,h3,O-O,e5,Nd5,Ne4,f5,Nxc5,Bxc5,dxc5,Qc7,Rh4,f4,c4,Ndb4,Rxf4,Nxd3,Rxf8+,Rxf8,Qxd3,Nb4,Qd6,Qxd6,cxd6,Bxf3,gxf3,Rxf3,Bd2,Nd3,Re3,Rxe3,Bxe3,Nxb2,c5,Nc4', 'c6,Nxe5,c7', 'https://lichess.org/training/Dh45q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DH79S', 'Blitz', 'livaque', 2061, 'prince_999', 1968, 'e3,h5,Ne2,h4,Nec3,e5,Be2,d5,O-O,g5,Bg4,f5,Bh5+,Ke7,Be2,g4,f3,g3,h3,Bh6,f4,e4,d3,Nf6,d4,Nc6,Nb5,a6,N5a3,Be6,c4,Qg8,c5,Kd7,Bd2,Rf8,b4,Ng4,b5,Nf2,Qa4,axb5,Qxb5,Qg6,Qxb7,Rfg8,Bb5,Nxh3+,gxh3,g2,Qxc6+,Ke7,Qxc7+,Kf6,Rf2,Qg3,Qe5+,Kf7,Qc7+,Kg6,Qe5,Bf7,Qd6+,Kh5,Qf6,Qxf2+,Kxf2', 'g1=Q+,Ke2,Rg2#', 'https://lichess.org/training/DH79S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DHakY', 'Rapid', 'vbajnok', 1661, 'japra', 1624, 'e4,e5,Nf3,Qf6,Bc4,c6,O-O,h6,Re1,b5,Bb3,Bc5,d4,exd4,e5,Qg6,Nxd4,Ne7,Re3,d5,exd6,Bxd6,Rf3,O-O,Nc3,Nd7,Bf4,Bxf4,Rxf4,Ne5,Re4,Qf6,Qe2,N7g6,Re1,Nd7,Rg4,Nde5,Rg3,Kh8,Nf3,Re8,Nxe5,Rxe5,Qd2,Rf5,Re8+,Kh7,Ne4,Qh4,Qd6,Nf4,Rh8+,Kxh8', 'Qf8+,Kh7,Qxg7#', 'https://lichess.org/training/DHakY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DhBIc', 'Rapid', 'bambula', 1705, 'ggg13', 1725, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,Re1,O-O,a3,d6,h3,Kh8,b4,a6,Nc3,b5,Bb3,Bb7,d4,exd4,Nxd4,Nxd4,Qxd4,Nd7,Nd5,Bxd5,Bxd5,Rb8,Qa7,Rb6,Be3,c5,c4,bxc4,Bxc4,Ne5,Bxa6', 'Nc6,Qxb6,Qxb6', 'https://lichess.org/training/DhBIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dhbOf', 'Rapid', 'MilanLukic', 1842, 'DouglasRodriguess1', 1854, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,Nf6,d5,Ne5,Nxe5,dxe5,Nc3,Qa5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,g6,f4,exf4,Bxf4,Bg7,d6,Qc5+,Kh1,e6,Na4,Qb5,Rb1,O-O,b3,Rac8,Rc1,Rfd8,Qf3,Rc6,Bg5,Rdc8', 'Qxf7+,Kh8,Qxd7', 'https://lichess.org/training/dhbOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DHBWv', 'Rapid', 'Capablanca-06', 1866, 'MaurinM', 1875, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Be3,Be6,Qd2,Nc6,h3,a6,g4,Qd7,Bg2,O-O-O,Nd4,Ne5,Nxe6,fxe6,Qd4,c5,Qe4,Nc6,O-O-O,Kb8,Bxc5,Ka8,Bb6,Rc8,Rhe1,e5,Qd3,g6,Be3,Rhf8,Re2,Qc7,g5,Qd8,h4,Qc7,Bh3,Rcd8,h5,d5,hxg6,e4,Qd2,hxg6,Kb1,Rf3,Bg4,Rf7,Qe1,Rdf8,Red2,Ne5,Be6,Nf3,Qe2,Nxd2+,Rxd2,Rh7,Qd1,Rfh8,Re2,Rh1,Re1,Rxe1,Qxe1,Bc5,Bxd5,Bxe3,fxe3,Qg3,Qf1,Qf2', 'Qxa6+,Kb8,Qxb7#', 'https://lichess.org/training/DHBWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DhdCg', 'Rapid', 'Erno46', 1831, 'gokhangokhan', 1827, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,exd4,Nxd4,Bb7,O-O,c5,Nb5,Nf6,e5,dxe5,Qxd8+,Rxd8,Nxc7+,Kd7,Nb5,a6,N5c3,Bd6,Bg5,Be7,Bxf6,Bxf6,Nd2,Rhe8,Nde4,Be7,Ng3,g6,Nce4,f5,Nc3,Ke6,h3,Rd2,Rac1,Bg5,Na4,Rd4,Rcd1,Be7,Rxd4,cxd4,Re1,Rc8,Ne2,Kf6,Nb6,Rxc2,Nd7+,Ke6', 'Nxd4+,Kxd7,Nxc2', 'https://lichess.org/training/DhdCg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DHDro', 'Classical', 'Flasher452', 1955, 'Beauchamp', 1763, 'e4,c5,Nf3,Nf6,e5,Nd5,c4,Nc7,Nc3,e6,d4,d5,exd6,Bxd6,dxc5,Be7,Be3,O-O,Be2,Nca6,Ne4,f5,Nd6,Nxc5,Nxc8,Qxc8,O-O,Nc6,a3,Qc7,Qc2,Ne4,Nd4,Nxd4,Bxd4,Bf6,Bxf6,Rxf6,f3,Ng5,Rad1,Rh6,f4,Qc5+,Kh1,Ne4,Bf3', 'Ng3#', 'https://lichess.org/training/DHDro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dHeXd', 'Rapid', 'DocToni', 1859, 'mireknow', 1853, 'd4,d5,Nc3,Nf6,Bg5,Nc6,Bxf6,exf6,Nf3,Bb4,Qd3,O-O,a3,Ba5,b4,Bb6,e3,a6,g3,Re8,Bg2,Nxd4,Nxd4,Bxd4,Qxd4,c6,O-O,Bf5,Qd2,h5,Ne2,g5,Nd4,Bg6,c3,f5,Nf3,Qf6,h4,g4,Ng5,Qd6,Qd4,f6,Nf3,gxf3,Bxf3,Re6,Qf4,Qxf4,gxf4,Kh7,Kg2,Rg8,Kh3,Ree8,Rg1,Re7,Rg3,Reg7,Rag1,Kh6,a4,Kh7,a5,Kh6,R3g2,Kh7,Rg3,Kh6,R3g2,Re7,Rg3,Reg7,R3g2,Rc8,Rd1,Bf7,Rxg7,Kxg7,Be2,Re8,Bd3,Bg6,Rg1,Kh7,Rc1,Rd8,Be2,Rc8,Bd3,c5,bxc5,Rxc5,Rb1,Rc7,Rb6,Kg7,Rb3,Rd7,c4,dxc4,Bxc4,Rc7,Bd5,Bf7', 'Rxb7,Rxb7,Bxb7', 'https://lichess.org/training/dHeXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DHG40', 'Rapid', 'Thorgottdesdonners', 2052, 'm___________m', 2058, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nc3,Qb6,Nf3,Nge7,Bb5,Bd7,Ba4,Nf5,Bxc6,Bxc6,O-O,Rc8,Ne2,Bb5,Be3,Be7,Re1,Bb4,Bd2,Be7,Bc3,O-O,a4,Bc4,a5,Qa6,Ng3,Qb5,Nxf5,exf5,Nd2,a6,Nxc4,Rxc4,Qf3,Qd7,Qd3,f6,e6,Qc8,Qxf5,Qc6,Re3,Rd8,Qh5,g6,Qh6,Bf8,Qh4,Bg7,f4,Re8,f5,g5,Qh5,Re7,h4,Qe8,Qxe8+,Rxe8,h5,h6,g4,Bf8,Rae1,Bd6,e7,Kf7,Re6,Rxe7', 'Rxd6,Rxe1+,Bxe1', 'https://lichess.org/training/DHG40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dHHpG', 'Classical', 'Jason_Hussey', 1868, 'selimist78', 1921, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,h3,Be6,Bxe6,fxe6,d3,h6,Be3,Bxe3,fxe3,Nf6,Qe2,Qd7,O-O-O,O-O-O,g4,g5,Rhf1,Rhf8,Kb1,Kb8,d4,exd4,exd4,d5,e5,Ng8,Na4,Rf4,Nc5,Qe7,Nh2,Rxd4,Qb5,Rb4', 'Na6+,Kc8,Nxb4', 'https://lichess.org/training/dHHpG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dhksU', 'Rapid', 'sekaram', 1965, 'inkuzmin', 2012, 'd4,d5,Nf3,Bf5,Bf4,e6,e3,c6,c3,Be7,Nbd2,Nf6,Qb3,Qb6,Be2,Nbd7,O-O,O-O,c4,Nh5,Be5,Nxe5,Nxe5,Nf6,c5,Qc7,Rac1,Nd7,f4,Nxe5,fxe5,Bg5,Nf3,Bh6,Rfe1,Rab8,Bd3,Bxd3,Qxd3,b6,b4,b5,Ra1,a5,a3,a4,e4,Qe7,exd5,exd5,Rf1,Qe6,Nh4,f5,Nxf5,Qg6,Nxh6+,Qxh6,Qe2,Qh4,Qe3,Rbd8,Rf3,Rxf3,gxf3,Rf8,Rf1,Rf4,e6,Qg5+,Kh1,Rg4,Qxg5,Rxg5,f4,Rf5,Kg2,Rf6,f5,Kf8,Kg3,g6,Kg4,Ke7,h4,gxf5+,Rxf5,Rg6+,Rg5,Kxe6,Rxg6+,hxg6,Kg5,Kf7,Kh6,Kf6,Kh7,g5,hxg5+,Kxg5,Kg7,Kf5,Kf7,Ke4,Ke7,Kxd4,Kd7,Ke5', 'Kxc6,d4,Kxb5,d3,c6,d2,c7,d1=Q,c8=Q', 'https://lichess.org/training/dhksU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dhldd', 'Classical', 'Star_Hipnos', 2053, 'vcl1999', 1977, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Nc3,Bg4,O-O,Nf6,Bg5,h6,Bxf6,Qxf6,e5,dxe5,dxe5,Qf4,e6,Qxc4', 'Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/Dhldd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dhlev', 'Blitz', 'workmarie', 1779, 'weedboy2002', 1758, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,f4,Qb6,Nb3,Nc6,e5,e6,Nc3,Nge7,Bb5,O-O,Bd2,a6,Bxc6,dxc6,Qe2,f6,O-O-O,Nd5,Nxd5,exd5,e6,Re8,Be3,Qb5,Qxb5,axb5,Nc5,b6,Nd7,Rxa2,Bxb6,f5,Rhe1,Bh6,g3,g5,Kb1,Ra6,Nf6+,Kf8,Nxe8,Kxe8,Bc5,gxf4,gxf4,Bxf4,h3,Bg3,Rg1,f4,Bd6,Bxe6,Rdf1,Kd7,Bxf4,Bxf4,Rxf4,Ra4,Rg7+,Kd6,Rf6,Re4,Rxh7,Re1+,Ka2,d4+,Ka3', 'Ra1+,Kb4,Ra4#', 'https://lichess.org/training/dhlev');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DHLPQ', 'Rapid', 'knightsweats', 1610, 'pobler', 1643, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qg5,Nf3,Qxg2,Rg1,Qh3,Nc3,Bg4,Rg3,Qh5,d3,Bd6,Rg1,Bxf3,Qd2,g6,Qg5,Qxg5,Rxg5,Bxh2,Be3,Be5,Rxe5+,Kd7,d4,f6,Ra5,Ne7,d5,Rhe8,dxc6+,Nxc6,Rd5+,Ke6,Ne2,Bxe2,Kxe2,f5,Rad1,fxe4,Rd7,Re7,R7d5,Nb4,R5d4,Nxc2,Rxe4+,Kf6', 'Bg5+,Kxg5,Rxe7', 'https://lichess.org/training/DHLPQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dHLuv', 'Classical', 'objetivo2000', 1966, 'simplexwork', 1898, 'b4,e5,Bb2,Nc6,b5,Nd4,Bxd4,exd4,Nf3,Bc5,c3,dxc3,Nxc3,d6,d4,Bb4,Qb3,Bxc3+,Qxc3,h6,Rc1,Nf6,Qxc7,O-O,Qxd8,Rxd8,e3,Be6,a3,Rac8,Ra1,b6,Bd3,Rc3,Ke2,Rdc8,a4,Bd5,a5,Bc4,Bxc4,R8xc4,axb6,axb6,Ra8+,Rc8,Ra6', 'Rc2+,Nd2,Ne4,Rd1,Nc3+,Ke1,Nxd1', 'https://lichess.org/training/dHLuv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DHMCE', 'Rapid', 'knightmod', 1638, 'Herk', 1733, 'c4,e5,e3,Nf6,g3,d5,b3,c6,Bg2,Nbd7,Ne2,Bb4,O-O,O-O,d3,b6,a3,Bd6,Bb2,Bb7,Qd2,Rb8,Nbc3,d4,exd4,exd4,Nxd4,c5,Nf3,Ne5,Nxe5,Bxg2,Kxg2,Bxe5,Ne4', 'Nxe4,Qe2,Bxb2', 'https://lichess.org/training/DHMCE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DHmdc', 'Rapid', 'kindza', 1816, 'Space47', 2202, 'e4,c5,Bc4,d6,h3,Nf6,Nf3,Nxe4,Nc3,Nxc3,bxc3,d5,Bb5+,Bd7,Bxd7+,Nxd7,Rb1,Qc7,O-O,e6,d4,b6,Nh2,Bd6,Ng4,O-O,Nh6+,Kh8,Ng4,c4,f4,f5,Ne5,Bxe5,fxe5,Qc6,Ba3,Rf7,Bd6,Nf6,exf6,Qxd6,fxg7+,Rxg7,Rf2,Rg3,Kh1,Rxc3,Qh5,Qg3,Rbf1,Rg8,Qf7,Qh4,Qxe6,Rxh3+,gxh3', 'Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/DHmdc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DhmUg', 'Rapid', 'oissa', 1874, 'PawnToTsar', 1740, 'd4,f5,c4,Nf6,Nc3,c6,Nf3,d6,e3,Nbd7,Bd3,e6,h3,Qe7,O-O,e5,Re1,e4,Be2,exf3,Bxf3,Ne4,Bxe4,fxe4,Qh5+,g6,Qg4,Nf6,Qf4,Bg7,d5,O-O,Qh2,Qf7,Qxd6,Ne8,Qg3,Be5,Qxe5,Qxf2+,Kh2,Rf3,Qxe8+,Kg7,Bd2', 'Rxh3#', 'https://lichess.org/training/DhmUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dhoQw', 'Blitz', 'kofri2013', 2169, 'Mekkaboe', 2166, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d4,b5,Bb3,Nxd4,Nxd4,exd4,e5,Ne4,Bd5,Nxf2,O-O,Nxd1', 'Bxf7+,Ke7,Bg5#', 'https://lichess.org/training/dhoQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dHs3W', 'Rapid', 'fcastellote57', 1784, 'Bezra', 1793, 'e4,e6,d4,d5,exd5,exd5,c4,c6,Nf3,Nf6,Nc3,Be7,Bd3,h6,O-O,Bg4,h3,Bh5,cxd5,cxd5,Be3,O-O,Be2,Nc6,Nh2,Bg6,Ng4,a6,Qd2,Bb4,Nxh6+,gxh6,Bxh6,Re8,Rfe1,Ne4,Qf4,Bd6,Qg4,Nf6,Qh4,Ne4,Qxd8,Raxd8,Nxd5,Bh2+,Kxh2,Rxd5,Bc4,Rxd4,b3,Red8,Be3,R4d7,Bb6,Rc8,f3,Nd2,Rad1,Nxc4,Rxd7,Nxb6,Rxb7,Nd5,Rc1,Ndb4', 'Rxb4,Nxb4,Rxc8+', 'https://lichess.org/training/dHs3W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DhSxW', 'Rapid', 'Aria2263', 1808, 'miguelvianna', 1818, 'e4,c5,c3,d5,exd5,Qxd5,Nf3,Nf6,d4,e6,c4,Qd8,Bg5,Be7,Nc3,cxd4,Nxd4,O-O,Be2,Nc6,Nxc6,bxc6,O-O,Rb8,b3,Bb7,Qxd8,Rfxd8,Bxf6,Bxf6,Rac1,Rd2,Rfd1', 'Bxc3,Rxc3,Rxe2', 'https://lichess.org/training/DhSxW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dHtBx', 'Classical', 'Ernestillo', 1908, 'Times77it', 1853, 'e4,c6,Nf3,d5,exd5,cxd5,Be2,Nf6,d4,Bf5,O-O,e6,Nc3,a6,h3,h6,Bd3,Bxd3,Qxd3,Bd6,Ne5,O-O,Bf4,Qc7,Bg3,Nbd7,Rfe1,Bxe5,dxe5,Nc5,Qf3,Nfe4,Nxe4,Nxe4,c3,Qb6,Rab1,f6,Bf4,fxe5,Be3,Rxf3,Bxb6,Rf7,f3,Nd2,Rbd1,Nc4,Bf2,Nxb2,Rb1,Nd3,Re3,e4,Bg3,Nc5,fxe4,Nxe4,Be1,b5,Rb4,Raf8,a4,Rf1+,Kh2,bxa4,Rxa4,Nc5,Ra5,Rc8,Bg3,Ne4,Be1,Rc6,Ra2,Kf7,g3,Ke7,Kg2,Rf8,Rc2,Rc4,Ra2,Nc5,Bf2,Re4,Ra5,Kd6,Rf3,Rxf3', 'Bxc5+,Kc6,Kxf3', 'https://lichess.org/training/dHtBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dHToX', 'Rapid', 'rahul_0425', 1615, 'agunghendrata', 1659, 'd4,d5,c4,e6,a3,Nf6,Nc3,c5,e3,Nc6,Nf3,h6,Bd3,Bd7,Rb1,cxd4,exd4,Be7,O-O,O-O,cxd5,exd5,Re1,Qc7,Bb5,Rae8,Ne5,Nxe5,Bxd7,Nfxd7,dxe5,Bc5,Nxd5,Qc6,Kh1,Rxe5,Rxe5,Nxe5,Be3,Rd8,Bxc5,Qxc5', 'Nf6+,gxf6,Qxd8+', 'https://lichess.org/training/dHToX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dHUUm', 'Classical', 'Locolope23', 1821, 'NGP96', 1829, 'd4,e5,dxe5,Nc6,Nf3,d6,e4,Be6,Bb5,dxe5,Qxd8+,Rxd8,Nxe5,Ne7,O-O,f6,Nf3,a6,Ba4,b5,Bb3,Bg4,Bf4,Bxf3,gxf3,Nd4,Nd2', 'Ne2+,Kh1,Nxf4', 'https://lichess.org/training/dHUUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DHvZb', 'Blitz', 'jenni64', 2002, 'ricardoandres1', 1924, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,d6,g3,Be7,Bg2,O-O,O-O,Qe8,Qc2,Qh5,e4,Nc6,a3,e5,d5,Nb8,b4,Ng4,h3,Nf6,Nb5,Bd8,Nd2,f4,c5,a6,cxd6,axb5,dxc7,Na6,cxd8=Q,Rxd8,Nf3,Bxh3,Nh4,Bxg2,Kxg2,Nxb4,Qd2,Na6,Bb2,Nxe4,Qd3,Nf6,Qxb5,Rxd5,Qxb7,Rad8,Qxa6,fxg3,fxg3,Rd2+,Rf2,Rxf2+,Kxf2,Rd2+,Kg1,Ne8,Qe6+,Qf7,Qc6', 'Qf2+,Kh1,Qh2#', 'https://lichess.org/training/DHvZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DHWCv', 'Blitz', 'whiskeybusiness', 1676, 'valerio81', 1731, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,e6,Re1,Nf6,d4,cxd4,Nxd4,Nxd4,Qxd4,Be7,Nc3,O-O,e5,dxe5,Qxe5,Bd7,Bd3,Bc6,Bg5,h6,Bxf6,Bxf6,Qg3,Qb6,Ne4,Be7,c4,Qxb2,Rab1,Qxa2,Ra1,Qb2,Rab1,Qd4,Bc2,Qxc4,Rbc1,Qd4,Red1,Qb4,Qd3,Rad8', 'Nf6+,Bxf6,Qh7#', 'https://lichess.org/training/DHWCv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DHwFe', 'Blitz', 'carlosajb', 1927, 'Hotzenplotz54', 1927, 'd4,e6,c4,d5,e3,c6,Nf3,Nf6,Bd3,Bd6,Nc3,O-O,O-O,Nbd7,Qc2,h6,Re1,e5,dxe5,Nxe5,Nxe5,Bxe5,cxd5,Nxd5,Nxd5,Qxd5,Be4,Qd6,a3,Bxh2+,Kh1,Be5,Bd2,Bg4,Bb4,Qf6,Bxf8', 'Qh4+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/DHwFe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dhWgh', 'Classical', 'igloosmasher', 1624, 'gunter24', 1626, 'd4,e6,e4,d6,Nf3,Nd7,e5,Be7,h4,dxe5,dxe5,f6,exf6,Bxf6,Nd4,Nb6,Be3,e5,Bb5+,c6,Nxc6,Qxd1+,Kxd1,Bd7,Nc3,bxc6,Bd3,Ne7,a4,Nbd5,Be4,Nxc3+,bxc3,Rd8,Ke2,Nd5,Bxd5,cxd5,Bxa7,Rc8,Ra3,e4,Kd2,O-O,h5,Be7,Rb3,Rxf2+,Bxf2,Bxa4,Rb7,Bg5+,Be3,Bxe3+,Kxe3,Rxc3+,Kd2,Rxc2+,Ke3,Rxg2,Rf1,Rg3+,Kd4,Rf3,Ra1,Be8,Ra8,Rf8,Raa7,Bf7,Ke3,g5,hxg6,hxg6,Kd4,g5,Ke5,e3,Kf6,e2,Rxf7', 'Rxf7+,Rxf7,e1=Q', 'https://lichess.org/training/dhWgh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dHwSt', 'Rapid', 'felino111', 1810, 'anlaoch', 1807, 'd4,Nf6,c4,e6,Nf3,c5,e3,cxd4,exd4,d5,Nc3,dxc4,Bxc4,a6,O-O,Be7,d5,exd5,Nxd5,Nxd5,Bxd5,O-O,Qb3,Nd7,Bd2,Nb6,Be4,Be6,Qc2,h6,Bxb7,Rb8,Bxa6,Nd5,a3,Bf6,Rab1,Qd6,Bc4,Rfc8,b3,Nb6,Qd3', 'Nxc4,Qxd6,Nxd6', 'https://lichess.org/training/dHwSt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dHx7t', 'Rapid', 'Anisolo11', 1609, 'Glaude1', 1661, 'e4,e6,Nf3,d5,d4,dxe4,Ng5,Nf6,Nc3,c6,Ngxe4,Nbd7,Bg5,Be7,Bc4,Nxe4,Bxe7,Qxe7,Nxe4,O-O,O-O,Nf6,Nxf6+,Qxf6,c3,b5,Bd3,Bb7,Bc2,Rad8,Qd3,g6,f4,c5,Qxb5,Bd5,Qxc5,Rc8,Qxa7,Rb8,b4,Rb7,Qa3,Rc8,Qb2,Qe7,Bb3,Bxb3,Qxb3,Qd6,a4,Rbc7,Rfc1,Qxf4,Kh1,Qe3,a5,Rxc3,Rxc3,Rxc3,Qb2,Qxd4,h3', 'Rxh3+,gxh3,Qxb2', 'https://lichess.org/training/dHx7t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dHxZ9', 'Classical', 'HA_RS', 2097, 'Begun2023', 2044, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,h6,O-O,d6,h3,O-O,Be3,Bb6,Nbd2,Ne7,Bb3,c6,c4,Ng6,Nh2,Nf4,Ndf3,N6h5,d4,exd4,Bxd4,Bxd4,Nxd4,Qg5,Qf3,Bxh3,g3,Bxf1,Kxf1,Ne6,Nf5,Rad8,Qg4,Nf6,Qxg5,Nxg5,f3,Rfe8,Rd1,Kh7,Nxd6,Re7,c5,b6,cxb6,axb6,Kf2,Ne8,Nxf7,Rxd1,Nxg5+,hxg5,Bxd1,Rd7,Ke2,Nf6,Bc2,g6,e5,Nd5,Ng4,Kg7,Bb3,Re7,Bxd5,cxd5,Ke3,Kf7,Kd4,Ke6,Nf2,Rf7,Ke3,Kxe5,f4+,gxf4+,gxf4+,Rxf4', 'Nd3+,Kf5,Nxf4,d4+,Kf3', 'https://lichess.org/training/dHxZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DHZrf', 'Rapid', 'bemcerto', 1944, 'moibaptiste', 1922, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Bb5+,Bd7,Be2,Nf6,O-O,Bd6,Re1,O-O,h3,Nc6,c3,Bc7,d3,Be6,Bg5,Qd6,Nbd2,Ne5,Bxf6,gxf6,Nf1,Kh8,Qd2,Rg8,Qh6,Bxh3,Qxh3,Rg7,Ng3,Rag8,Nh4,Rg5,Nhf5,Qd7,f4,Rxf5,fxe5,Bxe5,Nxf5,Rg5,Bg4,Qb5,Qh6,Rxg4,Qf8+,Rg8,Qxf7,Qxb2,g3,Qxc3,Rxe5', 'Qxa1+,Kf2,Qxe5', 'https://lichess.org/training/DHZrf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DI0ga', 'Rapid', 'umud08', 1820, 'Sarvarbek_Carlsen', 1651, 'd4,e6,e4,d5,e5,c6,c4,Bb4+,Bd2,a5,a3,Bxd2+,Nxd2,b5,cxb5,cxb5,Bxb5+,Nd7,b4,Ne7,Ngf3,O-O,Nb3,axb4,axb4,Bb7,O-O,Nb6,Nc5,Bc6,Bxc6,Nxc6,Nb7,Qe7,Nc5,Nc4,Nd2', 'Rxa1,Qxa1,Nxd2', 'https://lichess.org/training/DI0ga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Di0SX', 'Rapid', 'AlexLaguta', 1674, 'T-Dawg601', 1683, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,Nc3,Nf6,d4,exd4,Nxd4,O-O,Bg5,Be5,Nf3,Bg4', 'Qxd8,Raxd8,Nxe5', 'https://lichess.org/training/Di0SX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dI3vm', 'Rapid', 'Tihany', 1712, '1hava1', 1713, 'e4,Nc6,d4,d6,d5,Ne5,Bd3,Bg4,Ne2,Qd7,h3,Bh5,O-O,Nf3+,Kh1,Ne5,f4,Nxd3,cxd3,Bxe2,Qxe2,O-O-O,Be3,Kb8,Nd2,e6,dxe6,fxe6,Nb3,Qb5,Nd4,Qd7,a4,Be7,a5,a6,Nb3,Bf6,d4,Qb5,Qxb5,axb5,a6,Ne7,axb7,Kxb7,e5,dxe5,fxe5,Nd5,Bg1,Be7,Na5+,Kc8,Nc6,Rdf8,Rxf8+,Bxf8,Na7+,Kd7,Nxb5,Be7,Nc3,Rb8,Nxd5,exd5,Ra2,Rb3,Bf2,Bb4,Kh2,Rd3,g4,Bd2,Ra3,Bf4+,Kg2,Rd2,b4,Rb2,Ra4,Bd2,h4,Rxb4,Rxb4,Bxb4,Kf3,Ke6,Kf4,g6,h5,Be7,hxg6,hxg6,Be3,g5+,Kf3,c5,dxc5,Kxe5,c6,Kd6', 'Bc5+,Kxc5,c7,Bd6,c8=Q+', 'https://lichess.org/training/dI3vm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dI4Jt', 'Rapid', 'awcrtoooyyummu', 1666, 'Ruslan-M', 1836, 'e4,e5,f4,d6,Bc4,Be6,g3,Bxc4,d3,Bb5,Nf3,Nd7,Nc3,Bc6,b4,a6,Bb2,Ngf6,fxe5,Nxe5,a4,b5,Nd4,Bd7,axb5,axb5,Ncxb5,Bxb5,Nxb5,Be7', 'Rxa8,Qxa8,Nxc7+,Kd7,Nxa8', 'https://lichess.org/training/dI4Jt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dI86n', 'Blitz', 'IM Loay23', 2488, 'GM VictorAntonBologan', 2623, 'Nf3,c5,g3,g6,Bg2,Bg7,O-O,Nc6,d3,e5,c4,Nge7,Nc3,O-O,Ne1,d6,Nc2,f5,Ne3,Kh8,Ned5,f4,a3,g5,Rb1,g4,gxf4,Ng6,fxe5,Bxe5,f4,gxf3,Rxf3,Rxf3,exf3,Qh4,f4,Bg4,Qf1,Rf8,Be3,Nd4,Kh1,Rf5,Qf2,Qxf2,Bxf2,Nxf4,Be4,Rh5,Bg3,Nxd5,Bxe5+,Rxe5,Nxd5,b5,cxb5,Nxb5,Nc3,Nd4,b4,Rg5,bxc5,dxc5,Rb8+,Kg7,Rb7+,Kf8,Rxh7,Bf3+,Bxf3,Nxf3,Ne2,Re5,Rh3,Nd2,Nf4,Re1+,Kg2,Ra1,d4,c4,d5,Ne4,Re3,Ra2+,Kh3,Nd6,Ne6+,Kf7,Ng5+,Kf6,Re6+,Kxg5,Rxd6,Rxa3+,Kg2,c3,Rc6,Ra2+,Kg3,c2,d6,Kf6,d7+,Ke7,Rc7,Kd8,Rc3', 'Ra3,Rxa3,c1=Q', 'https://lichess.org/training/dI86n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DI8ZG', 'Rapid', 'Ragnar1338', 1631, 'chessxinli800', 1633, 'e4,d6,f4,Nf6,Nc3,Nbd7,Nf3,e5,fxe5,dxe5,Bc4,Be7,Bxf7+,Kxf7,Ng5+,Ke8', 'Ne6,Nb6,Nxd8', 'https://lichess.org/training/DI8ZG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Di9Gt', 'Rapid', 'Ossymax', 1803, 'bananagy', 1795, 'd4,d5,Nc3,c5,Bf4,Nc6,dxc5,e6,e3,Bxc5,a3,Nf6,Qf3,e5,Bg5,Bg4', 'Bxf6,Qb6,Qxg4', 'https://lichess.org/training/Di9Gt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dia5T', 'Blitz', 'kaissa600', 1733, 'Speedx49', 1832, 'e4,c5,f4,d6,Nf3,Nf6,d3,Nc6,Be2,g6,O-O,Bg7,c3,O-O,Kh1,b5,a3,Bb7,Be3,Ng4,Bg1,e6,Nbd2,a6,Rb1,b4,axb4,cxb4,h3,Nf6,c4,Rc8,b3,a5,Ra1,Nd7,Rb1,Bc3,Ng5,Nc5,Bxc5,dxc5,Ngf3,Nd4,Nxd4,cxd4,Nf3,Qd6,e5,Qd8,Ng5,f6,Nxe6,Qd7,Nxf8', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/dia5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dICfI', 'Classical', 'galaklenu10', 1954, 'AbrahamyanARMENIA', 1919, 'd4,d5,Bf4,e6,Nc3,c5,Nf3,cxd4,Qxd4,Nc6,Qd2,Bd6,O-O-O,Bxf4,Qxf4,Nf6,e4,O-O,e5,Nd7,h4,Qc7,Re1,f6,g4,fxe5,Qg3,Qa5,g5,e4,Nd2,Nb4,a3,Nc6,Nb3,Qb6,Na4,Qd8,Bh3,Nde5,Nac5,Qe7,Kb1,b6,Na4,Rf3,Qg2,Bd7,Nd2,Rf7,h5,Raf8,Ref1,Nd4,g6,Rf6,gxh7+,Kxh7,Qh2,Ndf3,Nxf3,Nxf3,Qc7,Nd2+,Ka2,Nxf1,Rxf1,Rxf2,Rg1,Qf7,Nc3,Qxh5,Qxd7,R8f7,Qe8,Qxh3,Nb5,e3,Nd6,Rf8', 'Qg6+,Kh8,Qxg7#', 'https://lichess.org/training/dICfI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DieUS', 'Rapid', 'arkantoslp', 1931, 'boguslda', 1958, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bf5,Nc3,e6,Bf4,Nc6,Bd3,Bxd3,cxd3,Nge7,O-O,Nf5,Ne2,Qb6,Rc1,Ncxd4,Nexd4,Nxd4,Nxd4,Qxd4,Qf3,Be7,Rc7,b6,Bd6,O-O,Bxe7,Rfc8,Rxc8+,Rxc8,Ba3,b5,b3,Rc2,Qg3,h6,Bd6,f6,Bf4,Kh7,Be3,Qxd3,h4,Rxa2,h5,a6,Rc1,Rc2', 'Qg6+,Qxg6,hxg6+,Kxg6,Rxc2', 'https://lichess.org/training/DieUS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DifYd', 'Blitz', 'FM Cellini', 2472, 'Zeck', 2449, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,c3,Nf6,d4,cxd4,cxd4,d5,e5,Ne4,Be3,e6,Ne1,h6,Nd3,Be7,f3,Ng5,Nd2,O-O,Nb3,b6,Qe2,Rfc8,Nf4,Na5,Nxa5,bxa5,Rfc1,a4,Rc2,Rxc2,Qxc2,Rc8,Qd2,Qb5,Rc1,Rc4,Rxc4,Qxc4,a3,Qb3,Qc1,Bd8,Kf2,Bb6,Ne2,Nh7,Qc3,Qb5,Qc2,Nf8,Nc3,Qc4,Qxa4,Qd3,Qd1,Qc4,Ne2,Ng6,Qd2,Ne7,Qc3,Qb5,b3,Nf5,g4,Ne7,h4,Ba5,Qc2,h5,Ng3,hxg4,fxg4,Bb6,Qc3,Qa6,b4,Qa4,Qd3,Nc6,h5,a5,bxa5,Bxd4,Bxd4,Nxd4,a6,Nc6,Qc3,Qxa6,g5,Qb6+,Kg2,Nd4,g6,fxg6,hxg6,Nc6,Ne2,d4,Qg3,Qc5,Qh4,Qxe5,Ng3,Qd5+,Kh3,Ne5', 'Qh7+,Kf8,Qh8+,Ke7,Qxg7+', 'https://lichess.org/training/DifYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DiGur', 'Blitz', 'Renan2103', 1596, 'jhowjoker', 1626, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,a6,a4,Nf6,O-O,Bc5,d3,d6,h3,Qe7,Be3,Bb4,Nd5,Nxd5,Bxd5,Bd7,Bd2,Bc5,c3,O-O,Be3,Bxe3,fxe3,Rab8,d4,Rfe8,b4,b5,axb5,axb5,Ra6,Nd8,Ra7,Bc6,Qd3', 'Bxd5,exd5,e4,Qd1,exf3', 'https://lichess.org/training/DiGur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dIILl', 'Classical', 'radiz', 2121, 'MichaelKrombopulos', 2247, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bf4,O-O,h3,Nbd7,e3,b6,Bd3,Bb7,O-O,a6,Rc1,dxc4,Bxc4,b5,Be2,c5,Rc2,c4,a4,Qb6,axb5,axb5,Ne5,Nxe5,Bxe5,Rfc8,Bf3,Bxf3,Qxf3,b4,Ne2,Ra2,Nc1,Ra1,Ne2,Rxf1+,Kxf1,Qa6,g4,c3,b3,Qd3,Rc1,Nd5,Kg2,Ra8,e4,Qxf3+,Kxf3,Nb6,Rc2,Ra1,Nc1,Bg5,Bf4,Bxf4,Kxf4,Rb1,Ke5,Rb2,Re2,Rd2,Kd6,Na4,d5,Nb2,Kc7,Nd3,d6', 'Nxc1,Rxd2,cxd2', 'https://lichess.org/training/dIILl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('diITx', 'Rapid', 'Uli-NNM', 1977, 'rigochile', 1976, 'e4,c5,Nc3,e6,b3,Nc6,Bb2,Nf6,Bb5,d5,exd5,Nxd5,Nxd5,Qxd5,Qf3,Qxf3,Nxf3,Bd7,O-O-O,Bd6,g3,Rg8,d4,a6,dxc5,Bxc5,Bd3,Bxf2,Bxh7,Rh8,Be4,f6,Nd4,Rc8,Nxc6,Bxc6,Bxc6+,Rxc6,Rdf1,Be3+,Kb1,Ke7,h4,Rhc8,c4,b5,cxb5,axb5,g4,e5,g5,fxg5,hxg5,Ke6,g6,Kd5,Rh5,Bd4,Bxd4,Kxd4,Rd1+,Ke4,Re1+,Kf4,Rhxe5,Rc1+,Kb2,Rxe1,Rxe1,Kf5,Rg1,Rc6,Ka3,Rxg6', 'Rxg6,Kxg6,Kb4,Kf6,Kxb5', 'https://lichess.org/training/diITx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('diIWv', 'Classical', 'arman25arman', 1790, 'canibalchess', 2180, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,d3,O-O,Nc3,c6,a3,h6,h3,Be6,Ba2,Nbd7,d4,Bxa2,Rxa2,exd4,Nxd4,Nc5,Re1,Re8,b4,Ne6,Nf5,Bf8,Qf3,Kh7,Ra1,a5,Bb2,axb4,axb4,Rxa1,Rxa1,Ng5,Qf4,Ngxe4,Nxe4,Rxe4,Qf3,d5,Bxf6,Qxf6,Ra8,Re1+,Kh2,Bd6+,Nxd6,Qxd6+,g3,Qe7', 'Qf5+,g6,Qc8,Qe8,Qxe8,Rxe8,Rxe8', 'https://lichess.org/training/diIWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DIJge', 'Rapid', 'Floxer', 1701, 'antoniofabio', 1616, 'd4,d5,e3,Nf6,c4,Bf5,cxd5,e6,dxe6,fxe6,Nc3,Be7,Nf3,O-O,Ne5,Ne4,Bd3,Bb4,Bxe4,Bxe4,O-O,Bxc3,bxc3,Qh4,f3,Bc6,Nxc6,Nxc6,Ba3,Rf6,c4,Rh6,h3,Na5,c5,Nc4,Bc1,Rf8,Qe2,Na5,e4,Rg6,Bd2,Nc6,Be1,Nxd4,Qf2,Nxf3+', 'Qxf3,Rxf3,Bxh4', 'https://lichess.org/training/DIJge');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dijpW', 'Rapid', 'reichenbacher', 1964, 'Dead_deal', 2086, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Qb3,O-O,Be2,c6,f4,Qa5,Ba3,Bxd4,Bb4,Qc7,cxd4,Qxf4,Qf3,Qc7,Nh3,Qb6,Qc3,Bxh3,gxh3,Na6,Ba3,c5,Bxa6,cxd4,Qd3,Qa5+,Kf2,bxa6,Bxe7,Rfe8,Bf6,Rac8,Rhd1,Qh5,h4,Re6,e5,Rxf6+,exf6,Qxh4+,Kg1,Qg5+,Kh1,Qd5+,Kg1,Rd8,Rf1,h5,Rad1,Kh7,Rf4,Qg5+,Qg3,Qc5,Qd3,Qg5+,Qg3,Qb5,Kg2', 'Qe2+,Qf2,Qxd1', 'https://lichess.org/training/dijpW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dik1A', 'Rapid', 'PAVELA', 1775, 'amook', 1766, 'e4,e5,Bc4,Nf6,d3,Bc5,Bg5,d5,Bxd5,Bxf2+,Kxf2,Ng4+,Ke1,Qxg5,Nf3', 'Qe3+,Qe2,Qc1+', 'https://lichess.org/training/dik1A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dikFe', 'Rapid', 'periodictable', 1831, 'aboalaa_mostafa', 1763, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,e6,d4,Be7,g3,O-O,Bg2,Bd7,O-O,h6,Nc3,a6,d5,exd5,Nxd5,Nxd5,Qxd5,Be6,Qxd8,Raxd8,b3,Bg4,h3,Bf5,Bf4,Bb4,Rfd1,Rfe8,a3,Bc3,Rxd8,Rxd8,Rf1,Bf6,b4,Rd3,a4,Ra3,a5,Rb3,Re1,Rxb4,Re8+,Kh7,Bc7,Rxc4,Nh4,Bg6,Nxg6,fxg6,Bb6,Rc1+,Kh2,Ra1,Bxc6,bxc6,Ra8,Bc3,Rxa6,c5,Bxc5,Rxa5,Rxa5,Bxa5,f4,Be1,g4,Bd2,f5,gxf5,gxf5,Bf4+,Kg2,Bg5,Kg3,Bf6,Kg4,Bc3,Kh5,Bf6,Kg4,Bc3,Kh5,Be5,Bf8,Bf6,Kg4,Bd4,h4,Bf6,h5,Bc3,Kf4,Kg8,Bd6,Kf7,Ke4,Kf6,Bf8,Ba1,Kf4,Bb2,Kg4,Bc1,Bc5,Bb2,Bb6,Bc1,Bd8+,Ke5,Bc7+,Kf6,Bd8+,Kf7,Kf3,Bb2,Ke4,Ba1,Kd5,Bf6,Bc7,Be7,Ke5,Bf6+,Kf4,Ba1,Be5,Bxe5+,Kxe5,Ke7,Kd5', 'Kf6,Ke4,Kg5,f6,gxf6', 'https://lichess.org/training/dikFe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DIKIs', 'Rapid', 'ban-ban', 1765, 'VaselineTopalov', 1728, 'e4,c5,Nf3,e6,c4,Ne7,Nc3,g6,d3,Bg7,Bd2,d6,a3,Nbc6,Rb1,e5,Be2,O-O,h3,f5,exf5,Nxf5,O-O,Nfd4,Nxd4,Nxd4,Be3,Nxe2+,Qxe2,b6,Nd5,Bb7,Nc3,Qc7,Qd2,Qc6,f3,Rad8,Bh6,Qd7,Bxg7,Qxg7,Qg5,Bc8,Nd5,Kh8,b4,Bf5,Rbd1,h6,Qc1,g5,bxc5,bxc5,Qb2,h5,Ne3,Bc8,Qe2,Rf4,Nd5,Rh4,Kh2,g4,fxg4,hxg4,Qe4', 'g3+,Kg1,Rxe4', 'https://lichess.org/training/DIKIs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dIlN8', 'Classical', 'vivek21', 1658, 'Valodyazer', 1636, 'e4,e5,Nf3,d6,Bc4,h6,d3,Nc6,c3,Nf6,O-O,Be7,Re1,Be6,Bxe6,fxe6,Qb3,Qd7,Qxb7,O-O,Qb3,Rab8,Qd1,Nh7,b3,Bf6,Be3,d5,exd5,exd5,Qd2,d4,cxd4,exd4,Bf4,Rbe8,Na3,Rxe1+,Rxe1,Be7,Nc4', 'Bb4,Qc1,Bxe1', 'https://lichess.org/training/dIlN8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dInwJ', 'Blitz', 'osuados', 1842, 'PO3A', 1763, 'e4,e5,Nc3,Nf6,g3,Nc6,Bg2,Bc5,Nge2,h6,h3,d6,O-O,O-O,Na4,Bb6,Nxb6,axb6,d4,exd4,Nxd4,Re8,Nxc6,bxc6,e5,Rxe5,Bxc6,Rb8,Bg2,Bb7,Bxb7,Rxb7,Qf3,Rb8,Bd2,Qd7,Kg2,Ne4,Bf4,Re7,Rfe1,Nc5,b4,Ne6,Be3,Rbe8,c3,c5,bxc5,bxc5,a4', 'Ng5,Bxg5,Rxe1,Rxe1,Rxe1', 'https://lichess.org/training/dInwJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dioBj', 'Rapid', 'm777ax', 1593, 'King-Anton', 1632, 'e4,c6,Nf3,d5,e5,Nd7,d4,e6,Nc3,c5,Be3,cxd4,Bxd4,Bc5,Bb5,Bxd4,Nxd4,a6,Bxd7+,Qxd7,O-O,f6,exf6,Nxf6,Qe2,O-O,Rae1,Ne4,Nxe4,dxe4,Qxe4,Rd8,Nxe6', 'Re8,Qh4,Rxe6,Rxe6,Qxe6,Qd8+,Kf7', 'https://lichess.org/training/dioBj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('diOyA', 'Blitz', 'Nan75', 1963, 'FM extremeTactic', 2372, 'e4,c5,Nc3,e6,Nf3,Nc6,a3,g6,d4,cxd4,Nxd4,a6,Be3,Bg7,Qd2,Nge7,O-O-O,O-O,Nxc6,Nxc6,Bh6,b5,Bxg7,Kxg7,f4,Rb8,h4,b4,axb4,Nxb4,Bc4,Qa5,Bb3', 'Qa1+,Nb1,Na2+,Bxa2,Qxb2#', 'https://lichess.org/training/diOyA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dipYl', 'Blitz', 'FM RobPeresian', 2397, 'WhisperingXylophone', 2476, 'Nf3,d5,d4,Nf6,c4,c6,Nc3,dxc4,e3,b5,a4,b4,Na2,e6,Bxc4,c5,O-O,Bb7,Qe2,Nbd7,Rd1,Bd6,Bd2,a5,Be1,O-O,Nc1,Qc7,h3,Rfd8,Bb5,Be4,Nb3,Bd5,Nxc5,Nxc5,dxc5,Qxc5,Rac1,Qb6,Nd4,Rac8,f3,Rxc1,Rxc1,Bc5,Bf2,e5,Nf5,Be6,g4,e4,Nd4,exf3,Qxf3,Bd5,Qf5,Be4', 'Qxc5,Qxc5,Rxc5', 'https://lichess.org/training/dipYl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DIPZg', 'Rapid', 'TURMOlL', 1615, 'axictli', 1656, 'e4,e6,e5,c5,Nf3,Nc6,d3,Be7,Be3,Qc7,Nc3,a6,Qe2,f6,exf6,Nxf6,O-O-O,b5,g3,d6,h4,Bb7,Bg2,b4,Ne4,Nxe4,dxe4,Rd8,Bh3,Qa5,Kb1,Bc8,Nd2,Ne5,Nb3,Qa4,f4,c4,fxe5,cxb3,cxb3,Qc6,Qh5+,g6,Qf3,Rf8,Bf4,dxe5,Rxd8+,Bxd8,Rc1,Qd7,Qe2,exf4,gxf4,Bxh4,f5,exf5', 'exf5+,Be7,f6', 'https://lichess.org/training/DIPZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dircC', 'Rapid', 'L_e_o_n_i_d-1', 1695, 'kinemooto', 1662, 'd4,e5,dxe5,Qe7,Nc3,Qxe5,e4,Bb4,Bd3,Nf6,Nf3,Qe7,O-O,O-O,Bd2,d6,a3,Bxc3,Bxc3,Nxe4,Re1,d5,Nd4,Qg5,Bxe4,dxe4,Rxe4,Nc6,Nxc6,bxc6,Qd3,Bf5,h4,Qg6,Rae1,Rfd8', 'Qxd8+,Rxd8,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/dircC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dIrGM', 'Rapid', 'oliverprater', 1649, 'Stefanhws', 1647, 'e4,e6,d4,b6,Nf3,Bb7,Bd3,Nf6,Bg5,Be7,Nbd2,h6,Bh4,d6,c4,e5,O-O,O-O,dxe5,dxe5,Nxe5,Qd6,Bg3,Qc5,Qc2,Bd6,Nef3,Bxg3,hxg3,Nbd7,Rad1,Ne5,Be2,Rad8,Nxe5,Qxe5,Bf3,Qg5,Qc3,Bc8,e5,Ng4,Rfe1,Qh5,Bxg4,Qxg4,Nf3,Rxd1,Rxd1,Be6,b3,f5,Nd4,Bc8,Rd2,Bb7,Ne6,Rf7,c5,Re7,Qc4', 'Qxc4,bxc4,Rxe6', 'https://lichess.org/training/dIrGM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dIRGn', 'Rapid', 'esna12394', 1906, 'profebruno22', 1735, 'd4,e6,Nf3,f5,e3,Nf6,g3,Be7,Bg2,c6,O-O,d5,Nbd2,O-O,c4,Nbd7,a3,Ne4,Qc2,Ndf6,b4,b6,Rb1,Bb7,Ne5,Nxd2,Bxd2,Qc7,Rfc1,Rfc8,cxd5,Nxd5,Qb3,Qd6,Rc2,Rc7,Rbc1,Rac8,Bxd5,cxd5,a4,Bf6,Nd3,g5,b5,h5,Bb4,Qd7,Rxc7,Rxc7,Rxc7,Qxc7,Qc3,Qxc3,Bxc3,Kg7,Kf1,Kg6,Ke2,h4,f3,g4,Nf2,Kg5,f4+,Kg6,Nd3,hxg3,hxg3,a6,Bb4,axb5,axb5,Kf7,Nb2,Bd8,Bd6,Ke8,Kd3,Kd7,Be5,Bc7,Bxc7,Kxc7,Kc3,Kd6,Nd3,Ke7,Ne5,Kd6,Nf7+,Ke7,Ne5,Kd6,Kb4,Ke7,Nd3,Kd6,Kb3,Ke7,Nb4,Kd6,Ka4,Ke7,Nc6+', 'Bxc6,bxc6,Kd6,Kb5,Kc7', 'https://lichess.org/training/dIRGn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DIrIw', 'Classical', 'Adnanalmasalmah', 1877, 'freedom2121', 1945, 'b4,d5,Bb2,e6,b5,c5,e3,Nf6,c4,b6,a4,Bb7,Nf3,Bd6,Be2,dxc4,Bxc4,O-O,Be2,Qc7,d4,Ne4,dxc5,Bxc5,O-O,Rd8,Qc2,Nd7,Bd3,Ndf6,Bxf6,Nxf6,Be2,Rac8,Nbd2,Qd6,Qb1,Ng4,Nc4,Qc7,h3', 'Bxf3,hxg4,Bxe2', 'https://lichess.org/training/DIrIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dirLy', 'Blitz', 'tog3pi', 1721, 'Joejoemille', 1653, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Nxc6,bxc6,Bc4,d5,exd5,cxd5,Bb3,Nf6,Bg5,Be7,Bf4,O-O,O-O,Bb7,h3,Re8,Qd2,Bb4,Be5,Rc8,Qf4,Be7,Rad1,Qa5,Rfe1,Qb6,Re3,Qc6,Rg3,Nh5,Rxg7+,Nxg7,Qh6,Bf8,Rd3,f5,Rg3,Re7,Ne2,Qe8,Nf4,Kh8,Nxe6,Rxe6,Bxg7+,Kg8,Bf6+,Kf7', 'Rg7+,Bxg7,Qxg7#', 'https://lichess.org/training/dirLy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dIrrA', 'Blitz', 'waltcuervo', 1833, 'ajimura', 1753, 'd4,d6,c4,Kd7,Nf3,c6,Nc3,f6,e4,g5,Qb3,h5,h3,Kc7,Be3,Nh6,Rd1,Qe8,c5,e5,d5,dxc5,dxc6,bxc6,Qa4,a5,Qc4,Be6,Nd5+,cxd5,exd5,Bd7,Bxc5,Kd8', 'Bb6+,Ke7,d6#', 'https://lichess.org/training/dIrrA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DiSrU', 'Rapid', 'Homem-Conan', 1871, 'ichbintoll', 1755, 'e4,c5,Nf3,d6,Be2,Nf6,d3,Nbd7,Nbd2,e6,O-O,Be7,Ne1,O-O,f4,e5,f5,a6,Nc4,b5,Ne3,Bb7,h3,Nb6,g4,d5,g5,Nfd7,f6,gxf6,gxf6,Bxf6,Nf5,dxe4,dxe4,Bxe4,Nh6+,Kh8,Bd3,Bxd3,Qxd3,e4,Qg3,Bd4+,Kh1,f6,Ng2,Qe7,Nh4,Qg7,Qf4,Nd5,Qf5,Rae8,Bf4,Ne3,Qh5,Ne5,Bxe3,Bxe3,N4f5,Qb7,Nxe3,Nf3,Rf2,Re5,Qg4,Rg5,Qe6,Qb8,Nf7+,Rxf7,Qxf7,Qg3,Qxf6+,Rg7,Rg2', 'Qxh3+,Rh2,Qxh2#', 'https://lichess.org/training/DiSrU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dItmY', 'Rapid', 'MatteoRunge_BRIS', 2083, 'ardefred', 2067, 'e4,d6,d4,g6,Nf3,Bg7,Nc3,Nf6,Be3,h6,Qd2,Ng4,h3,Nxe3,Qxe3,Nc6,d5,Nb8,O-O-O,c5,g4,Nd7,Bb5,a6,Bxd7+,Bxd7,Rdg1,b5,h4,b4,Ne2,Qa5,Kb1,c4,h5,g5,Nxg5,hxg5,Qxg5,Bh6,Qh4,c3,g5,Bg7,h6,Be5,f4,cxb2,fxe5,b3,cxb3,Qd2,g6,Bb5,gxf7+,Kf8,Rg8+,Rxg8,fxg8=Q+,Kxg8,h7+', 'Kh8,Nf4,Bd3+', 'https://lichess.org/training/dItmY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DIwD8', 'Rapid', 'Tihiy_174', 1684, 'LeoTolstoj', 1668, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Bb5,Nf6,Re1+,Be7,Bxc6+,bxc6,d4,cxd4,Qxd4,O-O,Bg5,c5,Qe3,Re8,c3,h6,Bxh6,gxh6,Qxh6,Bf8,Qg5+,Bg7,Nbd2,Bb7,Rxe8+,Nxe8,Qg3,Kf8,Re1,Qd6', 'Rxe8+,Kxe8,Qxd6', 'https://lichess.org/training/DIwD8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DiYE9', 'Rapid', 'daumier', 2112, 'rjml', 2149, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,h3,Na5,c3,Nxb3,Qxb3,O-O,a4,Rb8,axb5,axb5,d3,Be6,Qc2,b4,Bd2,b3,Qd1,Ra8,Rxa8,Qxa8,c4,Rb8,Bc3,Nd7,d4,Bxc4,dxe5,Nc5', 'exd6,cxd6,Qd4,Bf8,Qxc4', 'https://lichess.org/training/DiYE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DIYGX', 'Rapid', 'Larrychenko', 1934, 'Debasering', 1944, 'e4,e6,d4,d5,exd5,exd5,Nc3,c6,Bd3,h6,Nf3,Nf6,O-O,Bd6,Re1+,Be6,Bf5,Qd7,Ne5,Bxe5,dxe5,Ng4,Bxe6,Qxe6,h3,Nxe5,f4,Qg6,Rxe5+,Kd8,Nxd5,Nd7,Ne7,Qf6,Be3,Re8,Bc5,Kc7,Qd4,Nxe5,fxe5,Qe6,Bd6+,Kd7,Rd1,Rxe7,Bxe7+,Kxe7,Qc5+,Ke8,Rd6,Qxa2,Qd4,Qb1+,Kh2,Qxc2,Rd7,b6,Rc7,Qc5', 'Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/DIYGX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('diYJV', 'Rapid', 'small_master', 1641, 'screamingbird', 1651, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,h3,O-O,Be3,Nbd7,Qd2,Qc7,Bb3,Ne5,O-O-O,a5,a4,Nc4,Bxc4,Qxc4,Kb1,Be6,Nxe6,Qxe6,g4,Nxe4,Nxe4,Qxe4,Bh6,Qxa4,Rde1,Rfe8,Bxg7,Kxg7,h4,Qxg4,Qc3+,f6,f3,Qb4,Qc7,Kf7,Re4,Qd2,Qxb7,Rac8,Qb3+,Kg7,Rc1,Qh2,Rg4,h5,Ra4,Rc5,Qe3,e5,Qe4,f5,Qb7+,Kf6,Qd7,Re6,Qd8+,Kf7,Qd7+,Kf6,Qh7,e4,Qh8+,Kf7,Qh7+,Kf6,Qh8+,Kf7,fxe4,Rxe4,Qh7+,Ke6,Qxg6+,Ke5,Rxe4+,fxe4,Qxh5+,Kd4,Qh8+,Qe5,Qxe5+,Kxe5,Rg1,Kd4,Rh1,e3,c3+,Kd3,Kc1,Rd5', 'Rd1+,Ke4,Rxd5', 'https://lichess.org/training/diYJV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DIzhI', 'Blitz', 'hersco', 2073, 'sebassannin', 1957, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bd3,Bxd3,Qxd3,e6,Bg5,Qb6,Nd2,c5,c4,dxc4,Nxc4,Qc6,dxc5,Nd7,O-O-O,Nxc5', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/DIzhI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dIZlW', 'Rapid', 'IvorHexi', 1667, 'omaslo', 1899, 'e4,c5,Nf3,Nc6,Bb5,Nd4,Nxd4,cxd4,c3,dxc3,bxc3,a6,Bc4,d6,Qf3,Nf6,d4,b5,Bd3,Bb7,O-O,g6,Re1,Bg7,Qh3,O-O,a4,bxa4,Rxa4,Qc8,Qxc8,Rfxc8,e5,dxe5,dxe5,Nd5,c4,Nc7,Bf4,Ne6,Be4,Bxe4,Rxe4,Nxf4,Rxf4,Bxe5,Re4,Bf6,g3,Rc6,Nd2,a5,Nb3,Bc3,Rxe7,f5,Rd7,Rac8,c5,Rb8,Nxa5,Ra6,c6,Rxa5', 'c7,Rc8,Rd8+', 'https://lichess.org/training/dIZlW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dJ1ZS', 'Rapid', 'DoriaNNN', 1975, 'emad-dibbini', 1957, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,c3,d6,h3,Na5,Bc2,c5,d4,cxd4,cxd4,exd4,Nxd4,Bb7,Nd2,Rc8,Nf1,Nc4,b3,Ne5,Ng3,g6,Bh6,Re8,f4,Qb6,Kh1,Nc6,Ndf5,Bf8,Qf3,gxf5,Nxf5,Nd4,Qg3+,Kh8', 'Bg7+,Bxg7,Qxg7#', 'https://lichess.org/training/dJ1ZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DJ2Sp', 'Rapid', 'adrija2011', 1784, 'pezdecolor', 1775, 'd4,c6,c4,d5,Nf3,Bg4,Nc3,Bxf3,exf3,e6,cxd5,cxd5,Bf4,Nc6,Bb5,Bd6,Bxd6,Qxd6,O-O,Ne7,Re1,O-O,Rc1,Qf4,Ne2,Qh4,g3,Qf6,f4,Nf5,Bxc6,bxc6,Rxc6,Rac8,Ra6,Rc7,b3,Rfc8,a4,Qg6,Qd3,Qg4,Kg2,Nh4+,Kh1,Qf3+,Qxf3,Nxf3,Rd1,Rc2,Kg2,Nd2,b4,Ne4,Re1,Nf6,Rxa7,h5,b5,Rb8,Kf3,Ng4,h3,Nf6,Rb1,Ne4,b6', 'Nd2+,Ke3,Nxb1', 'https://lichess.org/training/DJ2Sp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dj7rL', 'Rapid', 'Recavalf', 1603, 'Bernardo_gelbcke', 1660, 'e4,e5,d3,Nc6,a3,g6,Nf3,Bg7,Nc3,Nf6,Bg5,O-O,Nd5,d6,Be2,h6,Bh4,Nb8,c4,Nbd7,b4,c6,Nxf6+,Nxf6,O-O,b6,a4,a5,b5,cxb5,axb5,Bb7,Qd2,Qd7,h3,Nh5,Nh2,Nf4,Bg4,f5,exf5,Rxf5,Bxf5,Qxf5,Bg3,Qg5,h4', 'Nh3+,gxh3,Qxd2', 'https://lichess.org/training/Dj7rL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DjchX', 'Rapid', 'awrence', 1854, 'imandric1', 1840, 'e4,e5,f4,d6,Nf3,Bg4,Bc4,Qf6,O-O,Be7,fxe5,dxe5,Qe1,Bc5+,d4,Bxd4+,Nxd4,Qb6,Qf2,Nf6,c3,O-O,Ne2,Qc6,Bd3,Rd8,Bc2,Qb5,Re1,Nc6,Bg5,Qxb2,Bb3,Qxa1,Na3,Qb2,Nc4,Nxe4,Qe3,Qxe2,Rxe2,Bxe2,Bxd8,Bxc4,Bxc4,Rxd8,Qxe4,Rd1+,Kf2,Rd2+,Ke3,Rd1,Kf3,Rd6,Qf5', 'Rf6,Kg4,Rxf5', 'https://lichess.org/training/DjchX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DjdaN', 'Blitz', 'Lotus2017', 1759, 'fieldtheory', 1757, 'c4,g6,Nc3,e5,g3,Bg7,Bg2,Ne7,Nf3,Nbc6,d3,O-O,O-O,d6,Rb1,a5,Nb5,h6,a4,f5,Bd2,Kh7,b4,axb4,Bxb4,Nxb4,Rxb4,Nc6,Rb1,Be6,Qb3,Na5,Qa3,b6,Nh4,Rb8,Rfd1,g5,Nf3,f4,Nd2,Qe7,Be4+,Kh8,Nb3,Nxb3,Rxb3,f3,Bxf3,Qf7,a5,g4,Bg2,Qxf2+,Kh1,Qxe2,Rbb1,Rf3,Nxc7,Bc8,a6,Kh7,a7,Bb7,axb8=Q', 'Rf1+,Rxf1,Qxg2#', 'https://lichess.org/training/DjdaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('djdFt', 'Bullet', 'nearthelake', 2303, 'nico17', 2195, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,c4,Nf6,Nc3,Bb4,Bd3,d5,cxd5,exd5,exd5,Nxd5,Qe2+,Be6,Bd2,Nxc3,bxc3,Ba5,Bc4,Qf6,Bxe6,fxe6,O-O,O-O,Qc4,Rac8,Rfe1', 'Qxf2+,Kh1,Qxd2,Qxe6+,Kh8', 'https://lichess.org/training/djdFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dJDIa', 'Rapid', 'SilverMedal', 1788, 'OrionNebula1976', 1727, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,Nf6,e5,c5,Qc4,Qa5+,c3,d5,Qb5+,Qxb5,Bxb5+,Nd7,O-O,Be7,f4,O-O,Re1,c4,e6,fxe6,Rxe6,Bc5+,Be3,Rxf4,Re8+,Rf8,Rxf8+,Kxf8,Bxc5+,Nxc5,Nd2,Ke7,Re1+,Kf6,Rf1+,Kg6,Be8+,Kh6,Bf7,Na4,Bxd5,Nxb2,Nxc4,Nxc4,Bxc4,Bd7,Rd1,Bc6,Rd6+,g6,Kf2,Rf8+,Kg3,Kg5,h4+,Kf5,Bd3+,Ke5,Rd4,h5,Bxg6', 'Rg8,Kf2,Rxg6', 'https://lichess.org/training/dJDIa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('djees', 'Rapid', 'diefer09', 1639, 'elyyya', 1631, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,e5,Nb3,Be6,Bg5,Be7,Be2,Nbd7,O-O,O-O,Qd2,Rc8,f3,Bxb3,cxb3,Qb6+,Kh1,Qxb3,Rac1,h6,Be3,Rfd8,Bd1,Qe6,b4,Nf8,a5,d5,exd5,Nxd5,Nxd5,Rxc1', 'Nxe7+,Qxe7,Qxc1', 'https://lichess.org/training/djees');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DjfXu', 'Blitz', 'Bekarys-970915', 1952, 'baghlani7', 2228, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Bd7,b4,cxd4,cxd4,Rc8,Bb2,Nge7,Nc3,Nf5,Na4,Qc7,Nc5,Bxc5,bxc5,h5,Bd3,b6,O-O,bxc5,dxc5,O-O,Bxf5,exf5,Ng5,g6,f4,Be6,Qf3,Rb8,Rab1,Qa5,Qg3,Qxc5+,Kh1,Kg7,a4,Nb4,Ba3,a5,Rfc1,Qa7,Rb3,Rfc8,Rcb1,Qd4,h3,Rc2,Nxe6+,fxe6,Bxb4,Rxb4,Qg5,Rc7,Rxb4,axb4,Qf6+,Kh7,Qxe6,b3,Qd6,Rb7,e6,b2,e7,Qe4,e8=Q,Qxe8,Qxd5,Rd7,Qe5,Qxe5,fxe5,Ra7,Rxb2,Rxa4,Rb7+,Kh6,e6,Re4,e7,Kg5,g3,Kf6,Rb6+,Kf7,Kg2,Rxe7,Kf3,Re4,Rb7+,Kf6,Rb6+,Kg7,Rb7+,Kh6,Rb6,Ra4,h4,Rc4,Ra6,Rc7,Rb6,Re7,Ra6,Rf7,Rb6,Kg7,Ra6,Rf6,Ra7+,Kh6,Kf4,Rb6,Rc7,Rb4+,Kf3,Rb6,Kf4,Ra6,Rb7,Ra8,Rc7,Rg8,Rc6,Rg7,Rb6,Rc7,Ra6,Rc4+,Kf3,Kg7,Rb6,Re4,Ra6,Kf7,Rb6,Re6,Rb7+,Kf6,Ra7,Rb6,Rc7,g5,hxg5+,Kxg5,Rc8,Rb3+,Kf2,Kg4,Rg8+,Kh3,Rg5,h4,gxh4,f4,h5,Rg3', 'Rxg3+,fxg3+,Kg1,Kg4,h6,Kf5,h7', 'https://lichess.org/training/DjfXu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DJG0G', 'Classical', 'Singularmateria2', 1871, 'untungsaraseri', 1882, 'd4,b5,e4,Bb7,Bxb5,Bxe4,Nc3', 'Bxg2,Qg4,Bxh1', 'https://lichess.org/training/DJG0G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DjG8e', 'Blitz', 'sharenbazikon24', 1593, 'kawot', 1601, 'd4,d5,Nf3,Nf6,Bg5,Bf5,Nc3,e6,Nh4,Bg6,Nxg6,hxg6,e3,Bd6,Be2,Nbd7,e4,dxe4,Nxe4,Be7,Ng3,Nd5,Bxe7,Qxe7,O-O,O-O-O,c4,Nf4,Bf3,Qh4,h3,Nxh3+,gxh3,Qxh3,Re1,Nf6,Qb3,c6,a4,Rxd4,a5,Rd2,a6', 'Qh2+,Kf1,Rxf2#', 'https://lichess.org/training/DjG8e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dJhjg', 'Blitz', 'Major254', 1559, 'POLITE_PLAYER', 1891, 'e4,e5,Bc4,Nf6,Nc3,Nc6,Nf3,Bc5,O-O,h6,h3,O-O,d3,d6,Qe2,a6,Be3,Bxe3,fxe3,b5,Bd5,Bd7,Qf2,Rb8,Bxc6,Bxc6,Qg3,Nh5,Qg4,g6,Rf2,Bd7,Qh4,Kg7,Qxd8,Rfxd8,b3,c6,a4,b4,Ne2,f6,d4,Kh7,dxe5,dxe5,Ne1,c5,g4,Ng7,Rxf6,Bc8,Ng2,Bb7,Ng3,Rd2,Raf1,Rxc2,Rf7,c4,bxc4,Rxc4,Re7,Bxe4,Nxe4,Rxe4,Rff7,Rg8,Nf4,b3,Nd5,b2,Rxg7+,Rxg7', 'Nf6+,Kh8,Re8+,Rg8,Rxg8#', 'https://lichess.org/training/dJhjg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('djiBQ', 'Classical', 'Berong', 1861, 'Omegain', 1709, 'c4,c5,g3,Nf6,Nc3,g6,e4,e5,d3,d6,Bg5,Be7,Be2,Nbd7,Bh6,Nb8,g4,Nc6,g5,Ng8', 'Bg7,h5,Bxh8', 'https://lichess.org/training/djiBQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DJiqQ', 'Rapid', 'rebertafi', 1610, 'Jorgitoxcuba', 1614, 'd4,d5,c4,dxc4,e3,Bf5,Bxc4,e6,a3,a6,Nf3,Bd6,O-O,Nf6,Nc3,c6,Nh4,Qc7,Nxf5,Bxh2+,Kh1,exf5,g3,Bxg3,fxg3,Qxg3,Qf3,Qh4+,Kg2,Ng4,Rh1,Qg5,Bd2,h5,Kf1,Nd7,Ke2,Ndf6,d5', 'Ne5,Qh3,Nxc4', 'https://lichess.org/training/DJiqQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DJJvd', 'Blitz', 'SubiendoconlaEXP', 1971, 'd0b3', 1976, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,d3,Bg4,f3,Bh5,Ne2,Nc6,Bd2,Qf5,Ng3,Qe5+,Qe2,Qxe2+,Kxe2,Nd4+,Kd1,Bg6,Nce4,O-O-O,c3,Nc6,Ke2,Ne5,h4,Nxc4,dxc4,Nxe4,fxe4,h6,h5,Bh7,Bf4,e6,Rad1,Be7,Rxd8+,Rxd8,Rd1,Rxd1,Kxd1,Bh4,e5,Bxg3,Bxg3,Bf5,Bf2,Bg4+,Kd2,Bxh5,Bxa7', 'b6,c5,Kb7,cxb6,cxb6,Bxb6,Kxb6', 'https://lichess.org/training/DJJvd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DjmUe', 'Rapid', 'benvoilakoi', 1814, 'Leonid50', 1784, 'e4,e6,d4,c5,Nf3,Nc6,Be3,cxd4,Nxd4,a6,Nc3,b5,Nxc6,dxc6,Qxd8+,Kxd8,O-O-O+,Kc7,Bf4+,Kb7,g3,Be7,Bg2,Nf6,e5,Nd7,Be3,h6,Ne4,Nxe5,Nd6+,Kc7,Bc5,Bf6,f4,Nd7,Bd4,Bxd4,Rxd4,Rf8,Rhd1,Nb6,Ne4,Nd5,c4,Ne3,R1d2,Nxg2,Rxg2,Rd8,Rgd2,Rxd4,Rxd4,Rb8,Nd6,f6,g4,g5,f5,exf5,gxf5,c5,Ne8+,Kb7,Rd8,Bxf5', 'Nd6+,Kc7,Rxb8,Kxb8,Nxf5', 'https://lichess.org/training/DjmUe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Djnbc', 'Rapid', 'Snaiper9999', 1755, 'giagulordava', 1974, 'e4,e6,e5,c6,d4,d5,a3,c5,c3,Nc6,Nf3,h5,Bb5,Bd7,Be3,Nxe5,Bxd7+,Nxd7,dxc5,Bxc5,Bxc5,Nxc5,Ne5,Qb6,O-O,Qxb2,Nd2,Qxc3,Rc1,Qxe5,Rxc5,Qd4,Qc1,Ne7,Nf3,Qa4,Rc7,Qb5,Qg5,Ng6,Ne5,O-O,Nxg6,fxg6,Qxg6,Qb2,Qxe6+,Kh8,Qxd5,Rac8,Rxb7', 'Qxf2+,Rxf2,Rc1+,Qd1,Rxd1+,Rf1,Rdxf1#', 'https://lichess.org/training/Djnbc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DJNvn', 'Blitz', 'Victtor13', 1881, 'owkenobi', 1843, 'e4,c5,Nf3,e6,d4,cxd4,c3,dxc3,Nxc3,Bb4,Bd3,Nc6,O-O,Nf6,Bg5,O-O,e5,h6,exf6,hxg5,Nxg5,Qxf6,Nh7,Qe7,Nxf8,Qxf8,Qh5,f5,f4,Qc5+,Kh1,b6,Rf3,Bb7,Rh3,Nd4,Qh8+,Kf7,Qh5+,Kg8,Qg6,Qc6,Rh7', 'Qxg2+,Qxg2,Bxg2+,Kxg2,Kxh7', 'https://lichess.org/training/DJNvn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dJpgC', 'Blitz', 'FM gmgattass', 2334, 'RCone2', 2365, 'e4,g6,d4,Bg7,Nc3,d6,f4,Nf6,e5,Nfd7,Nf3,O-O,Be3,c5,e6,fxe6,Ng5,Nf6,dxc5,h6,cxd6,hxg5,fxg5,Ne8,Qd3,Nxd6,Qxg6,Nf5,Bd3,Qe8,Qxe8,Rxe8,Bd2,Nc6,Nb5,Bxb2,Rb1,Be5,g4,Nfd4,Nc3,Nf3+,Ke2,Nxd2,Kxd2,Bf4+,Ke2,Bxg5,Ne4,Bf4,h4,Nd4+,Kf2,e5,g5,Bf5,Rxb7,Bxe4,Bxe4,Rac8,h5,Nxc2,h6,Nd4,g6,Bg5,Bd5+,e6', 'h7+,Kh8,g7#', 'https://lichess.org/training/dJpgC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('djrJj', 'Rapid', 'Suren2008', 1848, 'hamid1220', 1866, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,e6,e5,dxe5,Nxe5,a6,a3,Qd4,Qe2,b5,Ba2,Bb7,Nf3,Qd7,O-O,Bd6,d3,O-O,Ne5,Qc7,f4,Nbd7,Nxd7,Nxd7,Be3,Rae8,f5,Bxh2+,Kh1,exf5,Rxf5,g6,Rff1,Be5,Bh6,Bxc3', 'Bxf7+,Kh8,Bxe8', 'https://lichess.org/training/djrJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DJRxw', 'Rapid', 'hffhh', 1949, 'mickg2', 1920, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,exd4,Qxd4,Qxd4,Nxd4,Bc5,Nb3,Bb6,O-O,Nf6,Nc3,O-O,Kh1,Be6,f4,Rad8,f5,Bxb3,axb3,Rfe8,Bg5,Bd4,Rad1,h6,Bh4,Be5,Na4,b5,Nc5,a5,c3,Rd6,Nb7,Rxd1,Rxd1,Nxe4,Nxa5,c5,Nc6,Bf6,Bxf6,Nf2+,Kg1,Nxd1,Be7,Nxb2,Bxc5,Nd3,Bf2,Nxf2,Kxf2,Kf8,Nd4,Re5,g4,Ke8,Kf3,Rc5,Ne2,Ke7,Ke4,f6,Kd4,Re5,Nf4,c5+,Kd3,Kd6,Ne6,Rxe6,fxe6,Kxe6,Ke4,g6,c4,b4,h4,f5+,gxf5+,gxf5+,Kf4,h5,Kg5,Ke5,Kxh5,f4,Kg4,Ke4,Kh3,f3,Kh2,f2', 'Kg2,Ke3,Kf1', 'https://lichess.org/training/DJRxw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DjSAx', 'Blitz', 'Schroeder8', 2098, 'bennyaka', 1957, 'Nf3,c5,c4,Nc6,d4,cxd4,Nxd4,g6,e4,Bg7,Be3,Qa5+,Nc3,Nf6,f3,O-O,Be2,d6,Qd2,Re8,O-O,Nxd4,Bxd4,Be6,Rfc1,Rac8,b3,a6,a3,Qh5,f4,Bg4,h3,Bxe2,e5,dxe5,fxe5,Nd7,Nxe2,Nxe5,Nf4,Qf5,Rf1,Qd7,Nd5,Rcd8,Qf4,Nd3', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/DjSAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DjsLm', 'Rapid', 'celnahal', 1681, 'PlafonGundhi', 1682, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,f5,exf5,Bxf5,fxe5,dxe5,O-O,e4,Qe2,Nge7,Ng5,Nd5,Rxf5,g6,Rxd5,Qf6,Qxe4+,Be7,d3,O-O,Nd2', 'Qf2+,Kh1,Qf1+,Nxf1,Rxf1#', 'https://lichess.org/training/DjsLm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DJSSX', 'Rapid', 'dima3', 1987, 'AKgs', 1987, 'e4,c5,f4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,e6,Ne5,a6,Be2,Qc7,Bf3,Bd6,Qe2,Nf6,O-O,Nbd7,Re1,O-O,d3,Nb6,b3,Bd7,Bb2,Rad8,Ne4,Nxe4,dxe4,Bc8,Rad1,f6,Nd3,Bxf4,Nxf4,Qxf4,e5,Nd5,c4,Ne7,exf6,gxf6,Rxd8,Rxd8,Bxb7,Rd2,Qh5,Rxb2', 'Qe8+,Kg7,Qxe7+', 'https://lichess.org/training/DJSSX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DJt9u', 'Rapid', 'MyTSharp', 1851, 'Guade', 1843, 'd4,d5,Nf3,Nf6,Bf4,Bf5,h3,e6,g4,Bg6,Bg2,c6,Ne5,Nbd7,Nxg6,hxg6,Nd2,Nb6,c3,Bd6,Bxd6,Qxd6,e4,dxe4,Nxe4,Nxe4,Bxe4,f5,gxf5,gxf5,Bg2,Nc4,Qb3,Na5,Qa4,Qc7,O-O-O,O-O-O,Rhe1,Rde8,b4,Nc4,Qxa7', 'Qf4+,Kc2,Qxf2+', 'https://lichess.org/training/DJt9u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DJuQR', 'Rapid', 'divadeiwob', 1665, 'Corazon1512', 1715, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,d5,O-O,Bd6,exd5,cxd5,Nd2,Ne7,Nf3,Bb7,c4,O-O,cxd5,Bxd5,Re1,Bc7,Ne5,Qd6,Re3,f6,Bxh7+,Kxh7,Qh5+,Kg8,Rh3,fxe5,Qh7+,Kf7,Qh5+,g6,Qh7+,Ke8,Bh6,Rg8,Bg5,Bxa2', 'Bxe7,Qxe7,Qxg8+', 'https://lichess.org/training/DJuQR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('djx2M', 'Rapid', 'balamut92', 1803, 'Alexa-06', 1771, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,O-O,Nxe5,Bxd7+,Nxd7,d4,Ngf6,c3,Qc7,Kh1,Bd6,Ne5,O-O,Nd2,Rac8,Ndf3,Ne4,Qe2,f6,Nd3,c4,Nf2,Nxf2+,Rxf2,Bxf4,Bxf4,Qxf4,Ne5,Qxf2,Qxf2,fxe5,Qh4,exd4,Qxd4,Rf6,h3,Rcf8,Qxa7,e5,Qxb7,Nb6,Rd1,R8f7,Qb8+,Rf8,Qxe5,Na4,Qxd5+,Kh8,Qxc4', 'Nxb2,Qe2,Nxd1', 'https://lichess.org/training/djx2M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dJYjN', 'Rapid', 'babaksaffar', 1806, 'Capa3', 1856, 'e4,e6,f4,a6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,c5,c3,Bd6,O-O,O-O,Ne5,Qc7,Be3,c4,Bc2,Re8,Nd2,h6,Ndf3,Bg4,Nxg4,Nxg4,Ne5,Nxe3,Qe2,Nxf1,Rxf1,Qe7,Qg4,Nd7,Qf5,g6,Nxg6,fxg6,Qxg6+,Qg7,Qxd6,Rad8,Qxd5+,Kh8,Qxc4,Rg8,Be4,Nb6,Qd3,Rde8,g3,Na4,b3,Nb6,c4,Qe7,Re1,Qb4,Re2,Rg7,f5,Rge7,d5,Qd6,b4,Nd7,c5,Qe5,c6,bxc6,dxc6,Qa1+,Kg2,Ne5,Qe3,Nxc6', 'Qxh6+,Rh7,Qxc6', 'https://lichess.org/training/dJYjN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DjZ39', 'Blitz', 'Mohamadminehzadeh', 1635, 'iran-master', 1887, 'd4,e6,c4,Nf6,e3,g6,Nf3,Bg7,Bd3,c6,a3,d5,Nc3,O-O,h3,Nbd7,Qc2,Nb6,Ne5,Nbd7,g4,Nxe5,dxe5,Nd7,f4,Qh4+,Kd2,Qf2+,Ne2,Qg2,Rg1,Qxh3,b4,b5,c5,Bb7,Bb2,Qh4,g5,a5,bxa5,Rxa5,Bc3,Raa8,Bb4,Bxe5,fxe5,Nxe5,Bc3,Nf3+,Kc1,Nxg1,Kb2,Nxe2,Bxe2,Qxg5,Rh1,Qxe3,Bd3,Qxc5,Rxh7,Qxa3+,Kb1,Kxh7', 'Qh2+,Kg8,Qh8#', 'https://lichess.org/training/DjZ39');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DJZQq', 'Classical', 'AmateurMe', 1763, 'zerocuber', 1742, 'c4,c6,Nf3,d5,cxd5,cxd5,d4,Bf5,Nc3,e6,e3,a6,Bd2,Nf6,Ne5,Nbd7,Bd3,Nxe5,Bxf5,Nc4,Bd3,Nxb2,Qc2,Nxd3+,Qxd3,Bd6,e4,dxe4,Nxe4,Nxe4,Qxe4,O-O,Qxb7,Bc7,O-O,Qxd4,Qxc7,Qxd2,Rfd1,Rfc8', 'Qxc8+,Rxc8,Rxd2', 'https://lichess.org/training/DJZQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dk1yq', 'Rapid', 'cloudyman2', 1880, 'kaiprad', 1882, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Bb4,Qb3,Bxc3+,Qxc3,Nf6,Qe5+,Qe7,Qxe7+,Kxe7,Bg5,Re8,O-O-O,h6,Bxf6+,Kxf6,f3,d6,h4,Kg6,Bd3,Kh7,e5+,Kh8,exd6,cxd6,Bb5,Rd8,g4,f6,Ne2,Bd7,Rxd6', 'Rc8+,Nc3,Bxb5', 'https://lichess.org/training/dk1yq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dK4EA', 'Rapid', 'shrop05', 1698, 'sqld', 1664, 'e4,e5,Nf3,Nc6,Nc3,d6,d4,Bg4,d5,Nd4,Be3,Nxf3+,gxf3,Bd7,f4,Qe7,fxe5,Qxe5,f4,Qe7,Qf3,Qh4+,Bf2,Qg4,Qe3,g6,Be2,Qh3,Qd4,f6,e5,Bg7,exd6,cxd6,Qc4,f5,O-O-O,a6,Rde1,b5,Qb3,Ne7,Bf1,Qf3,Bh4', 'Qxf4+,Kb1,Qxh4', 'https://lichess.org/training/dK4EA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dk5QV', 'Rapid', 'dakfansi', 1711, 'mmil', 1711, 'b3,Nf6,Bb2,e6,e3,d5,c4,dxc4,Bxc4,Nc6,a3,Na5,Qe2,Nxc4,Qxc4,c6,Nf3,Qd5,Qxd5,Nxd5,O-O,f6,Nc3,Be7,Ne4,O-O,Rfc1,Bd7,b4,b6,h3,Rac8,h4,f5,Neg5,Bf6,Bxf6,gxf6,Nh3,Rf7,Nf4,Nxf4,exf4,Rd8,d4,Be8,a4,Rfd7,b5,cxb5,axb5,Rd6,Rc7,R6d7,Rc6,Rd6,Rac1,Rxc6,bxc6,Rc8,c7,Bb5,Nd2,Bd3,Kh2,Kf7,Nb3,a5,d5,exd5,Nd4,a4,Nc6,Rxc7', 'Nd8+,Ke7,Rxc7+,Kxd8,Rxh7', 'https://lichess.org/training/Dk5QV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DkAlg', 'Rapid', 'Imma', 1860, 'Yuri98', 1844, 'd4,Nf6,Nc3,d5,e4,dxe4,f3,exf3,Qxf3,Nc6,d5,Nd4,Qd3,e5,dxe6,Bxe6,Bg5,Be7,O-O-O,Nc6,Qb5,Nd7,Bxe7,Qxe7,Qxb7,O-O,Qxc6,Qg5+,Kb1,Qg6,Bd3', 'Bxa2+,Kxa2,Qxc6', 'https://lichess.org/training/DkAlg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DKbx7', 'Rapid', 'Gerard1963', 1962, 'Nekedisjo', 1984, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,O-O,Be3,c5,Rc1,Nc6,d5,Na5,Bxc5,Bg4,Bd4,Bxf3,Qxf3,e5,Be3,Rc8,Bxa7,Nc4,Bxc4,Rxc4,O-O,Qa5,Qe3,Qxa2,Bc5,Rc8,Bb4,h5,Rfe1,Kh7,Qe2', 'Qxe2,Rxe2,Rxb4', 'https://lichess.org/training/DKbx7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkCyX', 'Blitz', 'sr71999', 1820, 'andymazzo', 1781, 'e4,c5,f4,Nc6,Nf3,d6,c3,b5,d4,Bb7,d5,Nb8,Bxb5+,Nd7,O-O,Nf6,e5,Ng4,e6,fxe6,dxe6,Qb6,Bxd7+,Kd8,c4,g6,h3,Nf6,Ba4,Bg7,Nc3,d5,Kh1,d4,Ne5,Rf8,a3,Rc8,b4,Qxe6,bxc5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/dkCyX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkE8a', 'Rapid', 'shumon2', 1933, 'tiarmed', 2081, 'Nf3,Nf6,d4,g6,c4,Bg7,Nc3,O-O,e4,d6,h3,e5,d5,Nh5,Bd2,Re8,g4,Nf4,Qc1,g5,Ne2,Nd3+,Kd1,Nxc1,Rxc1,h6,Ng3,Bf8,Kc2,a5,Nh5,Nd7,h4,Nc5,hxg5,Bxg4,Nf6+,Kg7,Nxg4,Nxe4,gxh6+,Kh8,Be3,f5,Ngh2,f4,Bd3,fxe3,Bxe4,exf2,Ng4,Qd7,Nf6,Qa4+,Kb1,Re7,Rh2,b5,Rg2,Bxh6,Rh1,Rh7,Nxh7', 'Qxc4,Rxf2,Qxe4+', 'https://lichess.org/training/dkE8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkeUD', 'Blitz', 'jackster31415', 1944, 'mahafaltu1000', 1960, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nf6,g3,Nc6,Bg2,Be7,O-O,O-O,Bg5,Bg4,Qd2,Re8,h3,Be6,Re1,h6,Be3,c4,Qe2,Qc8,Kh2,Bd6,Ne5,Nxe5,dxe5,Bxe5,Bxh6,Bxg3+,fxg3,gxh6,Qe5,Qd8,Nd2,Kg7,Nf3,Rg8,Nh4,Kf8,Rad1,Nd7,Qd6+,Kg7,Rxd5,Bxd5', 'Nf5+,Kh8,Qxh6#', 'https://lichess.org/training/dkeUD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dKEXN', 'Rapid', 'ysufeker77', 2059, 'iwebule', 2003, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bd3,O-O,O-O,Re8,Be3,Be6,Qd2,Qc7,c4,Nd7,Rac1,Rad8,b4,Bf8,h3,b6,d5,Ne5,Nxe5,fxe5,dxe6,e4,exf7+,Qxf7,Qd1,exd3,a3,Re4,Rc3,d2,Rc2,Rxc4,Rxd2,Rxd2,Qxd2,h6,Qd3,Be7,Rd1,Bf6,Qb3,b5,a4,a6,Bc5,Kh8,a5,Be7,Qe3,Bxc5,bxc5,Qh5', 'Rd8+,Kh7,Qd3+,Qg6,Rh8+,Kxh8,Qxg6', 'https://lichess.org/training/dKEXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkEzJ', 'Rapid', 'monokarbon', 1942, 'yemidaniel', 1902, 'e4,g6,d4,Bg7,c4,e6,Nf3,d6,Nc3,b6,g3,Bb7,Bg2,Nd7,Be3,Ne7,Qd2,h6,O-O,a6,a4,g5,a5,Ng6,axb6,Nxb6,b3,Nd7,d5,e5,b4,Bf6,c5,Bc8,cxd6,cxd6,Rfb1,O-O,b5,a5,b6,Nc5,Bxc5,dxc5,b7,Rb8,bxc8=Q,Rxb1+,Nxb1,Qxc8,Rxa5,c4,Bf1,Qc7,Na3', 'c3,Qe3,Qxa5', 'https://lichess.org/training/dkEzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DkF9s', 'Bullet', 'nemac', 2101, 'mhikz124', 2059, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,c4,O-O,Bd3,Re8+,Kf1,Qc7,h4,Bg4,h5,Nd7,h6,g6,b3,Nf8,c5,Bf4,Bb2,Rad8,Rh4,Be6,g3,Bxg3,fxg3,Qxg3,Be4,f5,Bd3,Bd5,Be2,Bxf3,Bxf3,Qxh4,d5,Qxh6,Qd4,Qh3+,Bg2,Ne6', 'Qh8#', 'https://lichess.org/training/DkF9s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DkFAb', 'Blitz', 'never__quit', 1867, 'blackstone21', 1892, 'e4,c5,d4,cxd4,Nf3,g6,Nxd4,Bg7,Be3,Nc6,Nc3,Nf6,Be2,d6,f3,Bd7,Qd2,Qa5,O-O-O,Nxd4,Bxd4,O-O,Kb1,Rac8,h4,Be6,a3,a6,h5,b5,hxg6,b4,gxh7+,Kh8,axb4,Qxb4,g4,Rb8,Nd5,Nxd5,Bxg7+,Kxg7,h8=Q+,Rxh8', 'Qg5+,Kf8,Rxh8#', 'https://lichess.org/training/DkFAb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DkFtc', 'Rapid', 'Gusadrin', 1908, 'zorankal57', 2066, 'c4,Nf6,d4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,h3,c5,d5,e6,Be3,exd5,cxd5,Re8,Bd3,c4,Bc2,Nbd7,O-O,a6,a4,Nc5,Nd2,Nd3,Nxc4,Ne5,Nxe5,Rxe5,Re1,Qa5,Bd4,Re8,Qf3,Nd7,Bxg7,Kxg7,Rab1,Qb4,Re3,Ne5,Qe2,Nc4,Na2,Qc5,Rc3,b5,b3,Qa3,bxc4,Qxa2,axb5,axb5,Rxb5', 'Qa1+,Bb1,Qxc3', 'https://lichess.org/training/DkFtc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DkgAH', 'Blitz', 'Biboybeast24', 1776, 'Chess_To_Progress', 1778, 'e4,c5,Bc4,e6,Nf3,d5,Bb5+,Bd7,Qe2,Nc6,exd5,Nd4,Nxd4,cxd4,dxe6,fxe6,Qxe6+,Be7,Bxd7+,Qxd7,Qxd7+,Kxd7,d3,Nf6,Bg5,Rhe8,O-O,Rac8,Bxf6,Bxf6,Na3,Re2,Rac1,Bg5,f4,Bh6,Nc4,b5,Ne5+,Ke6,Nf3,Kd5,Ne1,g5,g3,gxf4,gxf4,Rg8+,Kh1,Rg4,c4+,dxc3,bxc3,Bxf4,c4+,bxc4,dxc4+,Kc6,Nf3,Rxa2,Nd4+,Kb7,Rb1+,Ka8,Nf3,Rgg2,Rg1', 'Rxh2+,Nxh2,Rxh2#', 'https://lichess.org/training/DkgAH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkGAl', 'Rapid', 'A_demola', 1899, 'tedtobi', 1641, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Ne7,O-O,a6,Ba4,Ng6,d4,exd4,cxd4,Bd7,h3,Be7,Nc3,O-O,Bxc6,Bxc6,d5,Bd7,Ne2,c6,Ng3,cxd5,Qxd5,Bc6,Qb3,Rc8,Rd1,Qc7,Be3,Bf6,Bb6,Qd7,Nf5,Ba4,Rxd6,Qxd6,Nxd6,Bxb3,Nxc8,Rxc8,axb3,Bxb2,Rd1,h6,Rd2,Bf6,Rd7,Rc3,b4,Ne5,Nxe5,Bxe5,g3,Rc4,Bc5,b6,Bxb6,Rxb4,Re7,Bf6,Re8+,Kh7,Be3,Rb1+,Kg2,a5,Kf3,a4,Ra8,a3,Rxa3,Kg6,Ra7,Rb3,Kg4,h5+,Kf3,Be5,Ra5,f6,Ke2,Bc3,Rc5,Rb2+,Kf3,Be5,Bf4,Rb3+,Kg2,Bd4,Rc4,Ba1,g4,hxg4,hxg4,Kh7,f3,Rb2+,Kg3,Re2,Rc7,Bd4,Bd6,Kh6,Bf8', 'Be5+,f4,Bxc7', 'https://lichess.org/training/dkGAl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkgHN', 'Classical', 'tuna0155', 1761, 'Igor_Mingaleyev', 1715, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Bc5,e5,d5,exd6,Qxd6,Re1+,Be6,Bxe6,fxe6,Ng5,e5,Nd2,O-O,Nge4,Nxe4,Nxe4,Qe7', 'Bg5,Qf7,Nxc5', 'https://lichess.org/training/dkgHN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkHOd', 'Classical', 'jaybir', 2188, 'pufik2009', 2084, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Qb6,Na4,Qa5+,c3,cxd4,b4,Qc7,Nxd4,Nxd4,Bxd4,Be7,Bd3,f5,h4,Nb6,Nc5,a5,a3,O-O,O-O,Bxh4,Qh5,Be7,g4,g6,Qh3,Bxc5,Bxc5,Rf7,Bc2,Nc4,gxf5,exf5,Qg2,Be6,Rfd1,axb4,axb4,Rxa1,Rxa1,b6,Ra8+,Kg7,Bf2,Rf8,Ra1,b5', 'Ra7,Qxa7,Bxa7', 'https://lichess.org/training/dkHOd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkjOY', 'Blitz', 'PeritusNauta', 1798, 'jit007', 1757, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Bc4,e6,Bb3,Be7,O-O,O-O,Be3,a6,f4,Na5,e5,dxe5,fxe5,Nd7,Qh5,Nxb3,cxb3,Qc7,Nxe6,fxe6,Rxf8+,Bxf8,Rf1,Qxe5', 'Qf7+,Kh8,Qxf8+,Nxf8,Rxf8#', 'https://lichess.org/training/dkjOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkKAY', 'Blitz', 'IM Anasurimbor', 2435, 'Mariusz-Pudzianowski', 2404, 'd4,Nf6,c4,e6,Nf3,d5,Bg5,dxc4,e3,Bb4+,Nbd2,b5,a4,c6,Ne5,h6,Bxf6,gxf6,Nf3,Bb7,g3,Nd7,Bg2,a6,O-O,f5,b3,c3,Nb1,Ba5,Na3,Qe7,Qc2,b4,Nc4,Bc7,Rfe1,c5,Rad1,Be4,Qe2,cxd4,Nxd4,Bxg2,Kxg2,O-O,Nc6,Qe8,Qh5,Kg7,Qh4,a5,e4,Nf6,Nd4,fxe4,Rxe4,Nxe4,Qxe4,Qe7', 'Nf5+,exf5,Qxe7', 'https://lichess.org/training/dkKAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dkks1', 'Blitz', 'FM ajkumar', 2446, 'FM Pabmar70', 2346, 'd4,d5,c4,e6,Nf3,Nf6,g3,dxc4,Bg2,Nc6,O-O,Rb8,a4,a6,Nc3,b5,axb5,axb5,Ne5,Nb4,Bc6+,Bd7,Nxd7,Nxd7,Bxb5,Be7,Bxc4,O-O,e4,c5,Be3,cxd4,Bxd4,Nc5,Be5,Rc8,Qg4,g6,Rfd1,Qb6,Bd4,Rfd8,Qe2,Qb7,f3,Rd7,Be3,Rcd8,Rxd7,Rxd7,Rd1,Nc6,Rxd7,Qxd7,Qd2,Qb7,Nb5,Ne5,Qe2,f5,Bd4,Bd6,f4,Nc6,Nxd6,Qb6,Bxe6+,Kf8,exf5,Nxd4,Qe5', 'Nf3+,Kf1,Nxe5', 'https://lichess.org/training/Dkks1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DkoTt', 'Rapid', 'mbn820', 1735, 'ovi1983', 1678, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Nf3,Bg4,Be3,cxd4,cxd4,e6,Nc3,Bb4,Be2,Bxf3,Bxf3,Nge7,O-O,Nf5,a3,Bxc3,bxc3,Nxe3,fxe3,O-O,e4,dxe4,Bxe4,Rc8,Rf3,b6,Bxh7+,Kxh7,Rh3+,Kg8,Qh5,f6,Rf1,Na5,Qg6,Qe7,Rff3,f5,Rh7,Qf7', 'Rh8+,Kxh8,Rh3+,Kg8,Qh7#', 'https://lichess.org/training/DkoTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DKPCe', 'Blitz', 'AFA08guy', 1578, 'MortenLohne', 1579, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Nc3,b5,Bb3,d6,Ng5,h6,Nxf7,Qd7,Nxh8,d5,exd5,Nd4,Ng6,Bc5,Nxe5,Qf5,Nf3,Ng4,O-O,Bd6,Nxd4,Bxh2+,Kh1,Qh5,Qe2+', 'Be5+,Kg1,Qh2#', 'https://lichess.org/training/DKPCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DKPTg', 'Rapid', 'Amrtaha2020', 1688, 'varghees', 1669, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,e5,Qe7,Be2,Ng8,Bf4,Qb4+,Qxb4,Bxb4+,c3,Bc5,O-O,Ne7,b4,Bb6,c4,Bd4,Nc3,Bxc3,Rab1,a5,b5,Bb4,a4,O-O,Bf3,c6,Rfd1,Nf5,Bg4,Nh4,g3,Ng6,h4,Nxf4,gxf4,f5,exf6,Rxf6,f5,c5,Rd5,b6,Bf3,Rb8,Rbd1,d6,Rxd6,Rxd6,Rxd6,Bxf5,Bd5+,Kf8,Rc6,Bc2,Rc7,Bxa4,Rf7+,Ke8,Rxg7,Bc2', 'Rg8+,Kd7,Rxb8', 'https://lichess.org/training/DKPTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DKQc2', 'Rapid', 'nesa10', 2101, 'walmoral2013', 2132, 'e4,c5,Nf3,g6,Nc3,Bg7,Bc4,Nc6,d3,Nf6,Bg5,O-O,Qd2,Re8,Bh6,Bh8,h4,e6,h5,d5,exd5', 'exd5+,Kf1,dxc4', 'https://lichess.org/training/DKQc2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DkRRs', 'Classical', 'SoulKnight', 1769, 'Aamir1359', 1752, 'f4,e6,Nf3,b6,e3,Bb7,Be2,a6,O-O,h6,c4,d6,Nc3,Nd7,d4,g5,Qe1,g4,Nd2,h5,b4,Nh6,e4,h4,d5,e5,f5,f6,Nb3,Qe7,Bxh6,Rxh6,Bxg4,h3,Bxh3,Qg7,Qg3,Qxg3,hxg3,O-O-O,g4,Be7,g3,Rxh3,Kg2,Rdh8,Kf3,Bf8,Ne2,Bh6,a4,Bg5,Nbc1,Bxc1,Raxc1,Kb8,Ng1,Rh2,Rf2,Rxf2+,Kxf2,c6,Kg2,c5,b5,axb5,axb5,Kc7,Nh3,Ra8,g5,Ra2+,Kf3,Rh2', 'g6,Rxh3,g7', 'https://lichess.org/training/DkRRs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkRZ9', 'Blitz', 'Rdwrer', 2088, 'sbs_75', 2120, 'd4,c6,e4,d5,f3,g6,Nc3,Bg7,Be3,Nf6,e5,Ng8,Qd2,e6,h3,Qb6,O-O-O,a5,h4,Ne7,h5,Nf5,Bg5,a4,h6,Bf8,g4,Ng3,Rh3,Nxf1,Rxf1,a3,b3,c5,Nge2,Nc6,Bf6,Rg8,Na4,Qb5,Nxc5,Bxc5,dxc5,Qxc5,f4,Nb4,Rc3,Nxa2+,Kb1,Nxc3+,Nxc3,Bd7,Ka2,Rc8,Rf3,b5,f5,b4,fxe6,fxe6,Bg7,Qxc3,Rxc3,Rxc3,Qf2,Bb5,Qb6,Rxc2+,Kb1,Bd3,Qb8+,Kd7,Qb7+,Kd8', 'Bf6+,Ke8,Qe7#', 'https://lichess.org/training/dkRZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkTfj', 'Classical', 'ifekali', 1791, 'Badalonafreedom', 1758, 'e4,e6,e5,d5,f4,c5,Nf3,Nc6,d4,Qb6,c3,cxd4,cxd4,Bb4+,Nc3,Nh6,Bd2,Nxd4,Na4,Bxd2+,Qxd2,Nxf3+,gxf3,Qd8,Nc5,O-O,Rg1,Nf5,O-O-O,Qb6,Qf2,Bd7,Kb1,Rac8,Rc1,Rc7,Bh3,Rfc8,Bxf5,exf5,Qg2,g6,Nxd7,Rxc1+,Rxc1,Rxc1+,Kxc1,Qc6+,Qc2,Qxd7,Qc5,b6,Qa3,Kg7,Kd2,f6,Kd3,fxe5,fxe5,Kf7,Kd4,Ke6,f4,Qc7,b3,h6,h3,g5,Qf8,gxf4,Qf6+,Kd7,Qxf5+,Kc6,Qe6+,Kb7,Qxd5+,Qc6,Qf7+,Ka6,Qc4+,Kb7,e6,Qd6+,Ke4,a6,Qd5+,Qxd5+,Kxd5,Kc7,Ke5', 'f3,e7,Kd7', 'https://lichess.org/training/dkTfj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dktpo', 'Blitz', 'lococo13', 2415, 'IM DrMelekess', 2521, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,a6,Ne5,e6,d4,b5,Be2,Bb7,Bf3,Qc8,a3,Be7,O-O,O-O,Bf4,Nbd7,Nd3,c5,dxc5,Nxc5,Nxc5,Bxc5,Qe2,Bc6,Be5,Nd7,Bg3,Qb7,Bxc6,Qxc6,Qe4,Rac8,Qxc6,Rxc6,Ne4,Be7,c3,Nf6,Nxf6+,Bxf6,Rad1,Rfc8,Rd7,h5,h3,h4,Bf4,Rc4,Be3,R4c7,Rfd1,Rxd7,Rxd7,Rd8,Rxd8+,Bxd8,f4,f5,Kf2,Kf7,Ke2,Bc7,Kd3,Ke7,c4,Kd7,cxb5,axb5,b3,Kc6,a4,g6,Bd2,bxa4,bxa4,Kd5,a5,Kc5,a6,Kb6', 'Ba5+,Kxa6,Bxc7', 'https://lichess.org/training/dktpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DKtsm', 'Classical', 'Imparosi', 1643, 'JVallejos', 1663, 'd4,d5,e4,e6,e5,c5,Nc3,cxd4,Qxd4,Nc6,Qa4,Ne7,f4,Bd7,Qb3,Rb8,Nb5,Nf5,g4,Qh4+,Kd1,Ncd4,Nc7+,Kd8,Qd3,Kxc7,gxf5,Nxf5,Nf3,Qd8,Bd2,Rc8,Ng5,Qe7,a3,h6,Bb4,Qe8,Bh3,Bxb4,axb4,Kb8,Nf3,Bb5,Qa3,a6,Bxf5,exf5,Nd4,g6,Qa5,Qd7,Nxb5,Qxb5,Qxb5,axb5,Ra5,Rc4,Rxb5,Rxf4,c3,Rd8,Re1,Re4,Rxe4,dxe4+,Ke2,Kc7,Rc5+,Kb6,Ra5,f4,Ra1,Rd5,Rf1,g5,Rd1,Rxd1,Kxd1,Kc6,c4,Kd7,c5,Ke6,b5,Kd5', 'c6,bxc6,b6,Kxe5,b7', 'https://lichess.org/training/DKtsm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DKuHe', 'Rapid', 'Dragon_Balls_04619', 1807, 'edmario', 1830, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,c3,Bb6,Nbd2,d6,Nf1,Bd7,Ng3,Ne7,Bxd7+,Qxd7,O-O,h6,Nh4,O-O-O,a4,a5,b4,Ne8,Kh1,g6,Qb3,Ng7,Bd2,Rhf8,Rab1,g5,Nf3,Nc6,b5,Ne7,c4,f5,exf5,Ngxf5,Ne4,Qe6,Rfc1,g4,Ne1,Nd4,Qd1,Kb8,Nc2,Nxc2,Rxc2,h5,c5,dxc5,Be3,Nd5,Bxc5,Bxc5,Nxc5,Qf5,Qd2,b6,Na6+,Kb7,Qh6,Rd6', 'Rxc7+,Nxc7,Qxd6', 'https://lichess.org/training/DKuHe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkulY', 'Classical', 'prashant190', 1651, 'Apolo12', 1704, 'd4,d5,c4,e6,Bf4,c5,Nf3,Nc6,e3,Nf6,Nc3,cxd4,Nxd4,Bb4,Nxc6,bxc6,cxd5,cxd5', 'Qa4+,Kf8,Qxb4+', 'https://lichess.org/training/dkulY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dKUSu', 'Rapid', 'papachintu', 1826, 'Rndrps', 1977, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,c3,Qb6,O-O,Nc6,b3,cxd4,cxd4,Rc8,Bb2,Nge7,Nc3,a6,Na4,Qa7,Ba3,b5,Nc5,b4,Bb2,Ng6,Rc1,Be7,h3,Nf4,Qd2,Nxe2+,Qxe2,O-O,Qd2,a5,Ne1,Nxe5,Nxe6,fxe6,dxe5,Rxc1,Qxc1,Bc5,Qd2,Be4,Nd3,Bxd3,Qxd3,Bxf2+,Kh1,Qe3,Qxe3,Bxe3,Rxf8+,Kxf8,g4,Kf7,Kg2,Kg6,Kf3,Bb6,h4,h5,Kf4,Bd8,g5,Bb6,Kf3,Kf5,Ba1,Bc7,Bd4,Bxe5,Bb6,Bc3,Bxa5,g6,a3,Be1,Bxb4,Bxh4,a4,Bxg5,a5,Bd8,a6,Bb6,Bd2,d4,b4,e5,b5,e4+,Ke2,e3', 'Ba5,Bxa5,a7', 'https://lichess.org/training/dKUSu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkv5P', 'Blitz', 'CM specialprize4u', 2130, 'namesake', 2113, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nc6,Nc3,Qf5,d4,O-O-O,d5,e5,h3,Bxf3,Bxf3,h5,Be3,Bb4,Qe2,Nd4,Bxd4,exd4,Qb5,a5,a3,dxc3,axb4,cxb2,Rb1,c6,Qe2,Nf6,O-O,Rhe8,Qd2,Nxd5,bxa5,Nf4,Qb4,Nxh3+,gxh3,Qxf3,Qxb2,Rd7,a6,Re6,Qxg7,b5,Qg8+', 'Rd8,Qg3,Rg6,Qxg6,fxg6', 'https://lichess.org/training/dkv5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkv5u', 'Rapid', 'prashant0418', 1692, 'zambur10', 1711, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,d6,d3,h6,Be3,Bb6,O-O,Bg4,h3,Bh5,g4,Bg6,Nd5,Nce7,Nxe7,Qxe7,Bxb6,axb6,Bd5,c6,Bc4,b5,Bb3,Nf6,Nh4,Nxe4', 'Nxg6,fxg6,dxe4', 'https://lichess.org/training/dkv5u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DKV7i', 'Rapid', 'ludvikK', 1853, 'angelo-casali', 1881, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Be2,Be7,O-O,O-O,Re1,Nbd7,c3,c6,Bg5,Ne4,Bxe7,Qxe7,Nbd2,f5,Bd3,Qf7,b3,h6,Nxe4', 'fxe4,Bxe4,dxe4', 'https://lichess.org/training/DKV7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dkX4g', 'Blitz', 'voortman', 1527, 'OwlGuamoko', 1509, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,O-O,c3,d6,h3,h6,d4,exd4,cxd4,Bb6,Be3,Re8,d5,Bxe3,Rxe3,Ne5,Nxe5,dxe5,Nc3,Nd7,Bb5,a6,Ba4,b5,Bb3,Nb6,Qf3,f6,Rd1,Kh8,Red3,Qe7,Qh5,Bb7,d6,cxd6,Rxd6,Qc7,Bf7,Red8,Rxf6,Rxd1+,Nxd1,Bxe4', 'Rxh6+,gxh6,Qxh6+,Bh7,Qf6#', 'https://lichess.org/training/dkX4g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DKZ6d', 'Blitz', 'NM Kanthecarowin', 2466, 'LM BadBishopBoy', 2458, 'd4,d5,c4,e6,Nc3,Be7,cxd5,exd5,Nf3,c6,Qc2,g6,e3,Bf5,Bd3,Bxd3,Qxd3,Nf6,O-O,O-O,b3,Nbd7,Bb2,Re8,Rad1,Bd6,Rfe1,Ne4,Nd2,Bxh2+,Kf1,Nxc3,Qxc3,Bd6,e4,Bf8,e5,a5,Nf3,Bb4,Qe3,Bf8,Re2,Bg7,Ng5,f6,Nf3,Nf8,Qd3,f5,Bc1,Ne6,Rc2,a4,g3,axb3,axb3,Qb6,Kg2,Qa6,Qe3,Qb5,Rh1,Ra1,Ng5,Nxg5,Qxg5,Qxb3,Rb2,Qd3,Rxb7,Qe4+,Kg1,f4,Rxg7+,Kxg7,Qh6+,Kf7,Qxh7+,Ke6,Kh2,fxg3+,Kxg3,Qf5', 'Rh6,Rxc1,Rxg6+,Qxg6+,Qxg6+', 'https://lichess.org/training/DKZ6d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dl2ca', 'Rapid', 'e13ment', 1732, 'evgeniynikolaev', 1631, 'e4,e5,f4,exf4,Nf3,Nf6,e5,Nd5,d4,c6,Bc4,Be7,O-O,O-O,Bxd5,cxd5,Nc3,d6,Nxd5,dxe5,Nxe7+,Qxe7,Nxe5,Qf6,Bxf4,Nc6,c3,Be6,Nxc6,bxc6,Bd6,Qg6,Bxf8,Rxf8,Qf3,Bd5,Qe2,f5,b3,f4,g3,f3,Qf2,h5,h4,Rf4,Kh1,Rf7,Rae1,Qg4,Kh2,g5,hxg5,Qxg5,c4,h4,cxd5,hxg3+,Qxg3', 'Rh7+,Kg1,Qxg3#', 'https://lichess.org/training/dl2ca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dl2qN', 'Classical', 'virgilenepal', 1663, 'lolik90', 1638, 'e4,e5,Bc4,Nf6,Nf3,d5,exd5,Nxd5,O-O,Bg4,h3,Bh5,Re1,Nc6,Bb5,Bd6,Nxe5,Bxd1', 'Nxc6+,Kf8,Nxd8', 'https://lichess.org/training/dl2qN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dl46v', 'Blitz', 'paulov46', 1787, 'DanaLou', 1722, 'c4,Nf6,Nc3,e6,Nf3,d5,b3,c5,d4,Nc6,e3,cxd4,Nxd4,Nxd4,Qxd4,b6,cxd5,Bc5,Qd1,exd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,Bb2,d4,Ne2,dxe3,fxe3,Bxe3+,Kh1,Bg5,Ng3,Qxd1,Raxd1,Rfe8,Rf5,h6,h3,Rac8,Rdf1,Rc2,Ba1,Rxa2,Kh2,Rc8,Ne4,Nxe4,Rxf7,Rcc2', 'Rxg7+,Kh8,Rf8#', 'https://lichess.org/training/dl46v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DL4lV', 'Classical', 'Marco-Stuhl', 2078, 'Pajuelo', 2072, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,h3,O-O,d3,h6,Be3,Bxe3,fxe3,d6,Qe2,Na5,Bb3,c6,Kd2,Nxb3+,axb3,d5,exd5,e4,Nxe4,Nxe4+,dxe4,cxd5,exd5,Qxd5+,Qd3,Qc6,Qc4,Rd8+,Ke2,Qf6,Qc3,Qg6,Kf2,Be6,Rhd1,Rdc8,Qd4,Rxc2+,Rd2,Rac8,Rxa7,Rxd2+,Nxd2,Rc2,Qd8+,Kh7,g4,Qe4,Ra8,Qe5,Qd3+,Bf5,gxf5', 'Qh2+,Kf3,Rxd2', 'https://lichess.org/training/DL4lV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DL6PZ', 'Rapid', 'junderwood206', 1611, 'IA53', 1693, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,h3,Bxf3,Qxf3,c5,c3,Nc6,Be3,cxd4,cxd4,Qa5+,Nc3,Bb4,Rc1,Qb6,Qg4,g6,Be2,Nge7,O-O,Nf5,Bb5,O-O,Bxc6,bxc6,a3,Nxe3,fxe3,Bxc3,bxc3,Qb3,Rf6,Qxa3,Rcf1,Qxc3,Qf4,a5,Rxf7,Rxf7,Qxf7+,Kh8,Rf4,Qxe3+,Kh2,a4,Rh4,h6,Qf6+,Kh7,Qf7+,Kh8,Qxg6,Rg8', 'Rxh6+,Qxh6,Qxh6#', 'https://lichess.org/training/DL6PZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dL7hk', 'Blitz', 'Shamel113', 1940, 'Ali-sobhi', 1940, 'Nf3,Nf6,Ng5,h6,Nxf7,Kxf7,e4,d6,Bc4+,Be6,Bxe6+,Kxe6,Qf3,Kd7,d4,Nc6,c3,e6,O-O,Qe7,Nd2,Re8,Nc4,Kc8,e5,Nd5,exd6,cxd6,Ne3,Nxe3,fxe3,e5,d5,Nd8,e4,g6,Qe3,Kb8,b4,Bg7,a4,Rhf8,Bd2,Rxf1+,Rxf1,Rf8,Rc1,Nf7,c4,Ng5,c5,dxc5,bxc5,Qf7,c6,Rc8,Ba5,Bf8,c7+,Ka8,h4,Nh7,Qh3,Qe8,Qe3,Bd6,Bb6,a6,Qc3,Nf6,Qc4,Nd7,a5,Nxb6,axb6,Qe7,Ra1,Bxc7,Rxa6+,bxa6', 'Qxa6+,Kb8,Qa7#', 'https://lichess.org/training/dL7hk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dl7hy', 'Rapid', 'Djie13', 1987, 'Sciavash', 1804, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Bf4,a6,Nf3,Nc6,Be2,g6,Bd6,Bg7,e5,Qb6,Qc2,Nge7,O-O,Nf5,Rfd1,Ncd4,Nxd4,Nxd4,Qd2,Nc6,Na4,Qa7,Bc5,Qb8,f4,Bf8,Bxf8,Kxf8,Nb6,Qa7,Qe3,Kg7,a4,a5,Ra3,Nb4,Nc4,Qxe3+,Rxe3,Nd5,Re4,Rb8,Nxa5,b6,Nc4,Ba6,Kf2,Rbc8,b3,Bb7,Red4,Bc6,Bf3,Rb8,Bxd5,Bxd5,Rxd5,exd5,Rxd5,Rhd8,Rb5,Rdc8,Nxb6,Rc6,a5,d6,Ke3,dxe5,fxe5,Rc2,Kf3,Rc3+,Ke4,Rc2,Kf3,Rc3+,Kg4,Rd8,Nd5,Rd3,Nf4,R3d4,Kf3,Rd2,b4,g5,Ne2,g4+,Kf2,R8d4,Ke3,R4d3+,Kf2,Ra2,Rb6,Rdd2,a6,Rxe2+,Kg3,h5,b5,Ra3+,Kh4,Rxg2,e6,Rxh2+,Kg5,f6+,Kf4,Rf2+,Ke4,Re2+,Kd5,Rc2,Rb7+,Kg6,e7,Rd3+', 'Ke4,Rcd2,e8=Q+', 'https://lichess.org/training/dl7hy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dLaf8', 'Blitz', 'DVRazor', 2320, 'NM Snappppp', 2372, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,c4,Bxc4,g6,e5,dxe5,Nxe5,e6,O-O,Bg7,Nxf7,Kxf7,Re1,Re8,Bg5,Kg8,d5,Qc7,Bb3,Na6,dxe6,Nc5,Qf3,Nxb3,axb3,Qc6,Qf4,Rf8,e7,Re8,Ra4,Bf5,Rc4,Qd7,Bxf6,Bxf6,g4,Bxc3,bxc3,Bxc2,Rc7,Qd5,c4,Qa5,Re5,Qa1+,Kg2,Qb1,Rxb7,Qd1,Rd5,Qe2,Rd8,Be4+,Kg3,Bxb7', 'Qf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/dLaf8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dLB4V', 'Rapid', 'billyparham', 1996, 'masterRx', 1901, 'e4,d6,d4,g6,Nc3,Bg7,f4,Nf6,Nf3,Bg4,Be3,Nbd7,Be2,O-O,O-O,Bxf3,Bxf3,e5,fxe5,dxe5,d5,c6,Bg5,cxd5,Nxd5,Qa5,b4,Qb5,Nc7', 'Qb6+,Kh1,Qxc7', 'https://lichess.org/training/dLB4V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DlbCz', 'Classical', 'MohsenFARS', 1701, 'JmsFrd999', 1715, 'd4,c6,c3,d6,e4,Qa5,b4,Qc7,Nf3,h6,g4,Bxg4,Bg2,Bc8,Nbd2,g5,Nc4,Bg7,e5,dxe5,dxe5,g4,Bf4,gxf3,Bxf3,Be6,Rg1,Kf8,Qd4,Bxc4,Rxg7,Kxg7', 'e6+,Nf6,Bxc7', 'https://lichess.org/training/DlbCz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DlBDS', 'Rapid', 'Sanpui', 1692, 'rhorville', 1747, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,f4,Qb6,a3,cxd4,axb4,Qxb4,Qg4,g6,Bd2,dxc3,Bxc3,Qe4+,Be2,Qxc2,Nf3,Nc6,O-O,Qxe2,Rf2,Qb5,h4,Nge7,h5,Rg8,Ng5,h6,Nh7,Kd8,Nf6,Rg7,hxg6,Rxg6,Qh4,Nf5,Qh2,d4,Bd2,Qxb2', 'Ba5+,Nxa5,Rxb2', 'https://lichess.org/training/DlBDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DLBNp', 'Rapid', 'RedRakus', 1644, 'safayar052', 1659, 'd4,d5,c4,dxc4,e4,b5,a4,Bd7,Nc3,a6,axb5,c6,bxc6,Nxc6,Bxc4,Bc8,Qa4,Bb7,d5,Qd6,dxc6,Bxc6,Bb5,axb5,Nxb5', 'Rxa4,Nxd6+,exd6,Rxa4,Bxa4', 'https://lichess.org/training/DLBNp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dlbVb', 'Rapid', 'Tamiras', 1671, 'Saleh111', 1697, 'c3,e5,d3,d6,h3,Nc6,g4,Be6,Bg2,d5,Nd2,Bd6,Nf1,Nf6,Qc2,Qe7,Ng3,h6,g5,hxg5,Bxg5,O-O-O,e4,Qd7,Qa4,Kb8,Bxf6,gxf6,exd5,Bxd5', 'Bxd5,Nb4,Qxd7', 'https://lichess.org/training/dlbVb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DlbYe', 'Blitz', 'Fazalk1399', 1960, 'makhlukdewa', 2040, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,Bd3,O-O,Be3,d5,exd5,Nxd5,Bd2,Nf4,Be4,f5,Bxc6,bxc6,O-O,Nd5,Nxd5,Bxd2,Qxd2,cxd5,Rad1,d4,Nc5,Qd5,b4,Rd8,a4,f4,c3,Bb7,Nxb7,Qxb7,cxd4,Rxd4,Qa2+,Kh8,Rxd4,exd4,b5,h6,Rd1,Rd8,Qc4,Qe4,Kf1,Re8,a5,f3,Qxd4', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/DlbYe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dlC2U', 'Blitz', 'sealcham', 2169, 'toniiiiiiiiii', 2107, 'd4,e6,Nf3,d5,e3,Nf6,Bd3,c6,Nbd2,Bd6,Qe2,O-O,O-O,Nbd7,Re1,Re8,e4,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qh4,Qc7,Bg5,Be7,Bxf6,Bxf6,Qxh7+,Kf8,Ne5,Ke7,Qh5,Rf8,Qf3,Bd7,Re2,Rh8,Rae1,Raf8,c4,Kd8,d5,exd5,cxd5,Kc8,dxc6,Bxc6,Nxc6', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/dlC2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DlC5j', 'Rapid', 'neufeld', 1603, 'Moisesbautista1', 1751, 'e4,d6,d4,c6,Nf3,Bg4,Be2,Nd7,Bd2,Ngf6,e5,Bxf3,exf6,Bxg2,fxe7,Qxe7,Rg1,Be4,Nc3,Bg6,Be3,d5,Qd2,a6,Bg4,Nb6,b3,Qa3,Qe2,Bb4', 'Bc1+,Kd8,Bxa3', 'https://lichess.org/training/DlC5j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dlCDm', 'Rapid', 'Misterlooser00', 1931, 'B52-Omega', 1925, 'c4,e6,g3,d5,cxd5,exd5,Bg2,Nf6,Nc3,Be7,d4,O-O,Nf3,c5,O-O,cxd4,Nxd4,Nc6,Bf4,Qb6,Nb3,Be6,Rc1,Rad8,e3,d4,exd4,Bxb3,axb3,Qxd4,Qe2,Qd7,Rfd1,Qe8,Qb5,Rxd1+,Rxd1,Qc8,Nd5,Nxd5,Qxd5,Rd8,Qf3,Nd4,Qe4,Qd7,Re1,Nc6,Qe3,a6', 'Bxc6,bxc6,Qxe7,Qxe7,Rxe7', 'https://lichess.org/training/dlCDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dlDhe', 'Rapid', 'engineerick07', 1758, 'mAArsOO', 1831, 'e4,c5,Nf3,d6,c3,Nc6,Be2,Nf6,d4,cxd4,cxd4,g6,d5,Nb8,O-O,Bg7,Re1,O-O,Nc3,Nbd7,Bg5,Ng4,h3,Nge5,Qd2,Nxf3+,Bxf3,Ne5,Be2,b6,Bh6,Bb7,Rac1,a6,Na4,b5,Nc3,Rc8,Bxg7,Kxg7,Qd4,Kg8,h4,Nc4,h5,e6,dxe6,fxe6,hxg6,hxg6,Bg4,Qf6,Qa7,Rf7,Rc2,Bxe4', 'Nxe4,Rxa7,Nxf6+', 'https://lichess.org/training/dlDhe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DlDlS', 'Rapid', 'Abepanggabean', 1644, 'Harshendu', 1641, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Nxe5,d5,Qf3,Be6,Bb3,Nc6,Nxc6,bxc6,d3,Nf6,Bg5,Bb4+,c3,Be7,O-O,O-O,Nd2,Bg4,Qg3,Be6,Rae1,c5,d4,c4,Bc2,Rb8,Qh4,Rxb2', 'Bxf6,Rxc2,Bxe7', 'https://lichess.org/training/DlDlS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DlEHe', 'Rapid', 'Lustan11', 1600, 'Josant0', 1679, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Qf6,d3,Be7,Nc3,c6,h3,Qg6,d4,Bxh3,Bxf7+,Kxf7,Nxe5+,dxe5,Qf3+,Ke8,Qxh3,Nd7,dxe5,Nxe5,Bf4,Bf6', 'Qe6+,Ne7,Bxe5', 'https://lichess.org/training/DlEHe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DLgZc', 'Classical', 'madgysalem', 1966, 'player999999999', 1839, 'g3,e5,Bg2,d5,Nf3,Bd6,O-O,Nf6,d3,O-O,Bg5,Nc6,c3,Be6,Nbd2,Be7,Re1,Qd7,e4,Bh3,exd5,Nxd5,Bxe7,Ndxe7,Nxe5,Nxe5,Rxe5,Ng6,Re1,Bxg2,Kxg2,Qxd3,Re3,Qd5+,Kg1,Qg5,Qb3,b6,Rae1,Rad8,Nf3,Qg4,Kg2,Nf4+,Kh1,Nh3,Ng1,Nxf2+,Kg2,Rd2,Nf3,Qh3+,Kg1,Ng4,R3e2,Rd3,Qb4,Rxf3', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/DLgZc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dLI2y', 'Blitz', 'GM Crest64', 2627, 'LOM73', 2363, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,e3,c6,Bd3,Ne4,Bxe7,Qxe7,Bxe4,dxe4,Qc2,Bf5,Nge2,Bg6,Nf4,f5,h4,Nd7,O-O-O,Bf7,d5,O-O,dxc6,bxc6,Na4,Bxa2,Rxd7,Qxd7,b3,Rfd8,Qxa2,c5,Qc2,c4,Qxc4+,Kh8,Kb1,Rac8,Qe6,Qd2,h5,Qc2+,Ka1,Rd1+,Rxd1,Qxd1+,Ka2,Qd2+,Ka3', 'Qc1+,Nb2,Qa1+', 'https://lichess.org/training/dLI2y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dLI78', 'Rapid', 'celsorial', 1705, 'Comrade_Bazarov', 1628, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,e6,Nf3,Nf6,Bg5,Be7,e5,dxe5,Qxd8+,Bxd8,Nxe5,O-O,O-O-O,h6,Be3,Bc7,Nf3,Nc6,a3,b5,Kb1,Rb8,Bc5,Re8,Na2,a5,g3,b4,axb4,axb4,b3,Nd5,Bg2,Ra8,Nd4,Nxd4,Rxd4,Be5,Bxd5,exd5,Rxb4,Bf6,Bd4,Re2,Bxf6,gxf6,f4,Bf5,Rc1,Rxh2,Nc3,Rc8,Nxd5,Bxc2+,Ka1,Ra8+,Kb2', 'Be4+,Kc3,Bxd5', 'https://lichess.org/training/dLI78');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DliDd', 'Rapid', 'JamelChampion1', 1830, 'kingkong2', 1801, 'e4,e6,d4,g6,f4,Bg7,Be3,Ne7,Nc3,b6,Be2,Bb7,Bf3,Nbc6,Nge2,a6,Qd2,Rb8,g4,d5,e5,f6,f5,gxf5,gxf5,exf5,Bh6,Bxh6,Qxh6,fxe5,Bh5+,Kd7,dxe5,Nxe5,O-O-O,Qf8,Qf4,Qf6,Nd4,c5,Nf3,Nxf3,Bxf3,d4,Bxb7,Rxb7,Rhe1,Qd6,Qg5,Kc6', 'Qg2+,Kc7,Rxe7+,Qxe7,Nd5+', 'https://lichess.org/training/DliDd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dlksP', 'Classical', 'snemelc', 1794, 'szymon1456', 2004, 'd4,Nf6,Nc3,d5,Bf4,e6,e3,Bd6,Be2,Bxf4,exf4,b6,Nf3,O-O,O-O,Bb7,Ne5,Nfd7,Bd3,c5,Qh5,f5,Nb5,Nf6,Qg5,Nc6,c3,a6,Na3,cxd4,Nxc6,Bxc6,cxd4,Qd6,Rfe1,Ne4,Qh4,Rf6,f3', 'Rh6,Qxh6,gxh6', 'https://lichess.org/training/dlksP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DlmDl', 'Classical', 'Braaaasca', 1861, 'AlbusGrey', 1789, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Bg5,Nf6,e5,dxe5,Qxd8+,Rxd8,Nxe5,Bxg2,Rg1,Rd5,Bxf6,gxf6,Nd3,Be4,Nc3,Rd7,Nxe4,Re7,f3,f5,O-O-O,fxe4,fxe4,Rxe4,Rde1,Bh6+,Kd1,Rxe1+,Rxe1+,Kf8,Nc5,b6,Nd7+,Kg8,Rg1+,Bg7,Nf6+,Kf8,Nd7+,Kg8,b3,f6,Nxf6+,Kf7,Nd5', 'Rd8,c4,c6,Ke2,cxd5', 'https://lichess.org/training/DlmDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dlnxx', 'Classical', 'rampichino', 1798, 'sgis', 1760, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,d3,c6,Bd2,Qc7,Nge2,Bf5,O-O,e6,Re1,Bd6,Nd4,Bg4,Qc1,O-O,h3,Bh5,Bxe6,Bc5,Nb3,Bxf2+,Kxf2,fxe6,Kg1,Qd6,Rf1,Nbd7,a3,Rae8,Be3,Qg3,Bf4,Qg6,Bd6,Rf7,Qe3,Nd5,Nxd5,cxd5,Rxf7,Qxf7,g4,Qg6,Kh2,Bxg4,hxg4,Qxg4,Rg1,Qh5+,Qh3,Qf7,Nc5,Nxc5,Bxc5,Rc8,Bb4,Rxc2+,Kh1,Rxb2,Rf1,Rf2,Rxf2,Qxf2', 'Qxe6+,Qf7,Qc8+,Qe8,Qxe8#', 'https://lichess.org/training/Dlnxx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DlOXd', 'Blitz', 'mistershrubber', 1505, 'JonboyJonboy', 1504, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,e6,Nf3,Nc6,Bf4,Bd6,Qd2,Nf6,h3,Ne4,Nxe4,dxe4,Ne5,Bxe5,dxe5,Qxd2+,Kxd2,O-O,e3,b6,Rc1,Bb7,Bb5,Rac8,a3,f6,exf6,Rxf6,Rc3,e5,Bxc6,Bxc6,Bxe5,Rxf2+,Kc1,Rxg2,Rf1,Bd7', 'Rxc8+,Bxc8,Bd6,g5,Rf8+,Kg7,Rxc8', 'https://lichess.org/training/DlOXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dLpFz', 'Rapid', 'Proky29', 1626, 'tajvb', 1777, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,a6,a3,d6,h3,h6,Qb3,Qf6,d4,exd4,cxd4,Ba7,Be3,Na5,Qb4,Nxc4,Qxc4,c6,e5,Qe6,Qc3,Ne7,O-O,Nd5,Qd3,Nxe3,fxe3,O-O,Nh4,dxe5,Nf5,exd4,e4,Qf6,Nd2,Be6,Kh1,Bxf5,Rxf5,Qd6,Raf1,Rae8,Nc4,Qg6,Ne5,Rxe5,Rxe5,Bb8,Re7', 'Qd6,e5,Qxe7', 'https://lichess.org/training/dLpFz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dLphm', 'Rapid', 'francozek', 1931, 'dadynast', 1966, 'Nf3,c5,g3,e6,Bg2,Nc6,O-O,d5,d3,h6,e4,Be7,Re1,Nf6,e5,Ng4,d4,cxd4,Nxd4,Ngxe5,Nxc6,Nxc6,c4,O-O,cxd5,exd5,Qxd5,Nb4,Qb3,Qc7,Bf4,Qc2', 'Rxe7,Qxb3,axb3', 'https://lichess.org/training/dLphm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DlpJX', 'Classical', 'FalleN666', 1873, 'Helemeri', 1841, 'd4,d5,Nf3,Nf6,a3,e6,c4,c6,Nc3,Nbd7,h3,Bd6,Be3,dxc4,Rc1,O-O,Qd2,Nd5,Bg5,f6,Bh4,Qc7,e3,g5,Nxg5,fxg5,Bxg5,Nxc3,Rxc3,b5,e4,Nf6,Bxf6,Rxf6,e5,Bxe5,dxe5,Qxe5+,Be2,Qd5,Qc1,Qxg2', 'Rg3+,Qxg3,fxg3', 'https://lichess.org/training/DlpJX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dLqf1', 'Rapid', 'DuckAndQuack', 1636, 'jober', 1678, 'c4,g6,Nc3,Bg7,g3,c6,Qc2,d5,e3,Bf5,e4,dxe4,Nxe4,Nf6,d3,O-O,Nf3,Nxe4,dxe4,Bg4,Bg2,Qb6,O-O,Na6,Rb1,Nb4,Qb3,Rad8,a3,Nd3,Qxb6,axb6,h3,Bxf3,Bxf3,Rd7,Rd1,Rfd8,b4,c5,bxc5,bxc5,Be3,e6,Rb3,Ne5,Rxd7,Nxf3+,Kg2,Ne1+,Kf1,Rxd7,Kxe1,Rc7,Rb5,Bd4,Bxd4,cxd4,Rb4,e5,Ke2,f5,Kd3,Kf7,a4,Ke6,Rb6+,Kd7,exf5,gxf5,Rh6,Ke8,Re6+,Re7,Rxe7+,Kxe7,f4,Kd6,fxe5+,Kxe5,g4', 'f4,a5,f3', 'https://lichess.org/training/dLqf1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dLrGR', 'Classical', 'csmaloysius', 1854, 'drewant101', 1880, 'd4,d5,c4,dxc4,e3,e6,Bxc4,Nf6,Nc3,Bd6,Nf3,O-O,e4,Be7,e5,Nfd7,Bd2,b6,Ne2,Bb7,Ng3,Nc6,Qc2,Nb4,Bxb4,Bxb4+,Nd2,Bxg2,Rg1,Bxd2+,Qxd2,Bb7,Nh5,g6,Bd3,Qh4', 'Qh6,Qxh5,Qxh5', 'https://lichess.org/training/dLrGR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dLsif', 'Blitz', 'Lesnick86', 1627, 'lladz', 1832, 'e4,e5,Nf3,d5,exd5,e4,Nd4,Qxd5,c3,Nf6,Be2,Bc5,h3,Bxd4,cxd4,Qxd4,Nc3,O-O,b3,Bf5,O-O,Qd7,Bb2,Bxh3,gxh3,Qxh3,f3,Nh5,Nxe4,f5,Nf2,Qg3+,Kh1,Nf4,Rg1', 'Qh4+,Nh3,Qxh3#', 'https://lichess.org/training/dLsif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dlte7', 'Blitz', 'MyDearMrDread', 1934, 'firs10', 1946, 'e4,c5,Nc3,d6,Nf3,Nf6,Bb5+,Bd7,d4,Bxb5,Nxb5,cxd4,Qxd4,Nc6,Qc4,Rc8,Bg5,e6,O-O-O,Be7,Bxf6,Bxf6,Rxd6,Qa5,Rhd1,O-O,Qb3,a6,Na3,Qc7,Nc4,b5,Ne3,Na5,Qa3,Nc4,Nxc4,Qxc4,Qb3,Qxe4,Rxa6,Rc7,Rad6,Rfc8,R6d2,g6,h3,Bg7,g4,b4,Kb1,Bh6,g5,Bg7,a3,bxa3,Qxa3,Rxc2', 'Rd8+,Rxd8,Rxd8+,Bf8,Qxf8#', 'https://lichess.org/training/dlte7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DLUdY', 'Bullet', 'Couix', 1935, 'EMERSONOV', 2066, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Nf3,e6,Bc4,a6,O-O,b5,Bb3,Bb7,Qe2,Nd7,Rd1,Qc7,Bf4,Rc8,Rac1,Qb8,Ng5,Ne5,Bxe5,dxe5,Nxe6,fxe6,Bxe6,Rc7,Nxb5,axb5,Qxb5+,Ke7,Rd7+,Rxd7,Qxd7+,Kf6,Qf7+,Kg5,Qf5+,Kh6,Rc3,g6', 'Rh3+,Kg7,Qf7#', 'https://lichess.org/training/DLUdY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dLv2A', 'Blitz', 'Sciencemelon69', 1917, 'Ljubjov57', 1920, 'e4,c6,Nc3,d5,Qf3,Nf6,e5,Ng8,Nh3,h6,d4,e6,Bd3,Qb6,Be3,Qxb2,Kd2,Bb4,Nf4,Bxc3+,Ke2,Bxd4,Rab1,Qc3,Ng6,Bxe3,fxe3,fxg6,Bxg6+,Kd8', 'Qf8+,Kc7,Qd6#', 'https://lichess.org/training/dLv2A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dlv7j', 'Rapid', 'rEEhERNG', 2081, 'LunarDune', 1972, 'e4,c5,f4,d6,Nf3,Nc6,Bc4,Nf6,Nc3,a6,a4,e6,O-O,d5,exd5,exd5,Ba2,Be7,d4,cxd4,Nxd4,Qb6,Ne2,Bg4,c3,Bxe2,Qxe2,Nxd4,cxd4,Qxd4+,Kh1,Ne4,Be3,Qxa4,Bxd5,Qb4,Rfe1,O-O,Bd2,Nxd2,Qxe7,Qxe7,Rxe7,Rfe8', 'Bxf7+,Kf8,Rxe8+,Rxe8,Bxe8', 'https://lichess.org/training/dlv7j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DLvi8', 'Rapid', 'vcms', 1668, 'Llewellyn1', 1675, 'e4,e5,Nf3,Nc6,Bb5,f6,Nc3,a6,Ba4,b5,Bb3,Bb7,d4,exd4,Nxd4,Bc5,Nf5,g6,Ng7+,Kf8,Bxg8,Kxg8,Qd5+,Kxg7,Qxc5,Re8,Bd2,d6,Qe3,g5,O-O-O,Ne5,f3,c5,h4,Nc4,Qf2,h6,hxg5,fxg5,Nd5,Nb6,Bc3+,Kg6,b4,Nxd5,exd5,Rc8,bxc5,dxc5,d6,Re6,d7,Rc7,Ba5,Bc6,Bxc7,Qxc7,Qxc5,Qf4+,Kb2,Qf6+,c3,Re2+,Ka3,Qe6,Rd6', 'Rxa2+,Kb4,a5#', 'https://lichess.org/training/DLvi8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dLvIZ', 'Rapid', 'CrapCrusher', 1916, 'ow-don', 1936, 'c4,e5,g3,Nf6,Bg2,c6,Nc3,Bc5,e3,O-O,Nge2,Re8,O-O,d5,cxd5,cxd5,d4,exd4,exd4,Bb6,Qb3,Be6,Bg5,Nc6,Rad1,Na5,Qc2,Rc8,Qb1,Nc6,Bxf6,Qxf6,Nxd5', 'Bxd5,Bxd5,Rxe2', 'https://lichess.org/training/dLvIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DLvvU', 'Rapid', 'DIVENIL', 1773, 'kyoko_x', 1786, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Nc3,Bg7,Bg5,h6,Bf4,Nf6,Bc4,O-O,O-O,Bb7,Qd2,Kh7,Bd3,d5,e5,Nh5,Bg3,Nxg3,fxg3,Bxe5,Rae1,Bg7,Na4,Qd6,b4,e6,Nc5,Rab8,a3,a5,c4,axb4,axb4,Bd4+,Kh1,Bxc5,bxc5,Qxc5,cxd5,cxd5,Rc1,Qe7,Qa5,Rfc8,Qb6,Ba8,Rc7,Rxc7,Qxb8,Rc3,Bxg6+,fxg6,Qxa8,Ra3,Qc6,Re3,Qc2,e5,Qd2,d4,Qa2,Kg7,g4,e4,g5,h5,Qd5,d3', 'Qd4+,Kh7,Qxe3', 'https://lichess.org/training/DLvvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DlWAJ', 'Rapid', 'dva158', 1796, 'Ho27', 1775, 'e4,c5,Nf3,d6,Bc4,e6,a3,Nf6,Nc3,Be7,h3,O-O,d3,a6,O-O,b5,Ba2,Bb7,Ne2,Nbd7,Bf4,e5,Bh2,h6,Ng3,Nh7,Nf5,Nhf6,Nxe7+,Qxe7,Bg3,Kh7,Nh4,g6,Qd2,Nh5,Qe3,Nxg3,fxg3,Qg5,Rxf7+,Rxf7,Qxg5,hxg5,Bxf7,gxh4,gxh4,Rf8,Be6,Nb6,g4,Kg7,Kg2,Bc8,Ba2,Rf6,Kg3,Be6', 'g5,Rf8,Bxe6', 'https://lichess.org/training/DlWAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dlWfa', 'Rapid', 'WantToBeGrandmaster', 1928, 'JamesHalliday', 1948, 'd4,d5,c4,c6,Nc3,Nf6,e3,Bf5,Nf3,e6,Bd3,Bg6,O-O,Bd6,Qc2,Nbd7,Bd2,dxc4,Bxg6,hxg6,a4,Ng4,h3,Nh6,Ne4,Be7,Qxc4,g5,Bc3,g4,hxg4,Nxg4,Ng3,Nb6,Qd3,Nd5,Bd2,Bd6,Ne4,Nh2,Nxd6+,Qxd6,Ne5,O-O-O,a5,f6,Nf7', 'Nf3+,gxf3,Qh2#', 'https://lichess.org/training/dlWfa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DlwtC', 'Classical', 'sosed', 1724, 'yeyenkartika', 1857, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,h3,Nf6,d3,Qe7,a3,Bd7,Nc3,O-O-O,O-O,h6,Qe2,g5,Nh2,h5,Bxg5,Rhg8,h4,Qd6,Na4,Bb6,Nxb6+,axb6,g3,Rdf8,Bxf6,Qxf6,Qxh5,Bh3,Rfe1,Rg6,Qf3,Qxh4,Re3,f5,exf5,Rxf5,Qe4,Qh5,Rae1,Kb8,R1e2,Rgg5,Rf3,Rxf3,Qxf3,Qh6,Re4,Rf5,Qe3,Qf6,g4,Rg5,Qxh3,Rg8,f3,b5,Qg3,Rh8,Kg2,Qg5,Re2,b6,b4,Kb7,Qxe5,Qh6,Qg3,Qc1,c4,Qxa3,cxb5,cxb5,f4,Qxb4,Qf3+,c6,Kg3,Qb1,Re7+,Ka6,g5,b4,d4,b3,Qe2+,b5,Re3', 'Qg1+,Qg2,Qxe3+', 'https://lichess.org/training/DlwtC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dm0N6', 'Rapid', 'Railbird80', 1923, 'sundaresan', 1851, 'e4,c5,c4,d6,Nc3,Nf6,Nf3,a6,d4,cxd4,Nxd4,Nc6,Be2,e6,Be3,Be7,Qd2,Qc7,O-O,Ne5,b3,Neg4,Bg5,h5,Bh4,Bd7,h3,Ne5,f3,Nxe4,fxe4,Bxh4,Qf4,Bf6,Rad1,Ng6,Qe3,Qc5,Na4,Qa7,Rd3,Bxd4,Qxd4,Qxd4+,Rxd4,Ke7,Nb6,Rad8,Rfd1,Bc6,Bd3,e5,Rd5,Bxd5,Nxd5+,Ke6,Rf1,Rdf8,Be2,Ne7,Nb6,f5,exf5+,Rxf5,Rd1,Nc6,g4,Rg5,h4,Rg6,g5,Ke7,Bd3,Re6,Bf5,Nd4,Nd5+,Kf7,Bxe6+,Kxe6,Rf1,Rc8,g6,Nf5', 'Rxf5,Kxf5,Ne7+,Ke6,Nxc8,Kd7,Nb6+', 'https://lichess.org/training/Dm0N6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dM1Fd', 'Blitz', 'Joleik', 1719, 'qchnn', 1702, 'd4,d5,c4,e6,Nc3,Nf6,g3,Bb4,Bg2,c6,Bg5,dxc4,a3,Be7,Nf3,h6,Bxf6,Bxf6,e4,b5,O-O,Bb7,Qd2,O-O,Rad1,Nd7,d5,cxd5,exd5,Bxc3,Qxc3,exd5,Nd4,a6,Rfe1,Nf6,Nf5,Re8,Rxe8+,Qxe8,Nxh6+,gxh6,Qxf6,Qe6,Qd4,Re8,Bxd5,Bxd5,Qxd5,Qe2,Qd4,Re4,Qd8+,Kg7,Kg2,Qxb2,Rd2,Qxa3,Qb6,Re6,Qd4+,Kf8', 'Qh8+,Ke7,Qd8#', 'https://lichess.org/training/dM1Fd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dm7LH', 'Rapid', 'cellardoor93', 1710, 'Goldenboy74', 1887, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Nf3,d5,a3,Bxc3+,Qxc3,Ne4,Qc2,f5,e3,c5,dxc5,Qa5+,b4,Qc7,cxd5,exd5,Bd3,Nc6,O-O,Ne5,Nxe5,Qxe5,Bb2,Qe6,Rfe1,Qg6,f3,Ng5,Kh1,Bd7,e4,fxe4,fxe4,dxe4,Bxe4,Nxe4,Qxe4', 'Rf1+,Rxf1,Qxe4', 'https://lichess.org/training/dm7LH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dm7yH', 'Rapid', 'C5555R', 1735, 'blackhorse', 1748, 'Nc3,e6,Nf3,d5,d4,c6,Bf4,Bd6,Qd2,Nf6,Ne5,O-O,e3,Nbd7,Bd3,Bc7,O-O,c5,Qd1,c4,Be2,Nxe5,Bxe5,Bxe5,dxe5,Nd7,f4,f6,Qd4,fxe5,fxe5,Rxf1+,Rxf1,Qg5,Bg4,Nxe5,Bh3,Nc6,Qc5,Bd7,Nd1,b6', 'Bxe6+,Bxe6,Qxc6,Rd8,Qxe6+', 'https://lichess.org/training/dm7yH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dm85v', 'Blitz', 'mahmoud_2020', 2004, 'makotoNagano', 2007, 'e4,d6,d4,g6,Nc3,Bg7,Bc4,Nf6,Be3,O-O,f3,Nbd7,Qd2,e5,Nge2,exd4,Nxd4,Ne5,Bb3,Re8,h4,Nh5,g4,Nxf3+,Nxf3,Ng3,Rg1,Bxc3,Qxc3,Nxe4,Qd3,Qf6,Nd4,Nc5,Qd2,Qxh4+,Qf2,Rxe3+,Kf1,Qh3+,Rg2,Bxg4', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/Dm85v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dMa9g', 'Rapid', 'Juli_guanca', 1813, 'Ntbio', 1771, 'e4,e5,Qh5,d6,Qxf7+,Kxf7,Bc4+,Be6,Bxe6+,Kxe6,Nf3,h6,Nc3,Nf6,d4,exd4,Nxd4+,Kd7,f3,Nc6,Be3,Nxd4,Bxd4,c5,Bxc5,Qa5,Bd4,Rc8,O-O-O,Kc7,h4,Kb8,Kb1,d5,Be5+,Ka8,Nxd5,Nxd5,Rxd5,Qa6,Rd2,Bb4,c3,Ba5,Bxg7,Rh7,Bd4,Rg7,Bxg7,Qg6,Be5,h5,Rhd1,a6,Rd5,Bc7,Rc5,Kb8', 'Bxc7+,Rxc7,Rd8+,Ka7,Rxc7', 'https://lichess.org/training/dMa9g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmaxs', 'Rapid', 'Nekedisjo', 1961, 'aba_dov', 1803, 'd4,Nf6,Nf3,b6,e3,e6,Be2,Bb7,O-O,c5,c3,Nc6,Nbd2,Qc7,b3,Bd6,g3,h5,Nc4,Be7,Bb2,Ne4,Qc2,f5,Nfe5,h4,Ng6,Rh6,Nxe7,Kxe7,Bd3,hxg3,fxg3,Nxg3,Rf2,Rah8,e4,f4,d5,Ne5', 'd6+,Qxd6,Nxd6', 'https://lichess.org/training/dmaxs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DmBVo', 'Blitz', 'BlackRose123', 1997, 'Schachtrainer_76', 2158, 'd4,c6,Bf4,d5,e3,Nf6,Nf3,Qb6,Qc1,Bf5,Bd3,Bxd3,cxd3,e6,O-O,Nbd7,Nc3,Rc8,Qd2,Be7,a3,O-O,b4,Qd8,Ne5,Nxe5,Bxe5,Nd7,Bg3,Ra8,Rac1,a5,Qb2,axb4,axb4,b5,Ra1,Qb6,Rfb1,Qb7,Ne2,Rxa1,Rxa1,Ra8,Rxa8+,Qxa8,Qc3,Qa4,h3', 'Qd1+,Kh2,Qxe2,Qxc6,Nf8', 'https://lichess.org/training/DmBVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dmc83', 'Rapid', 'Neves87', 1736, 'Ugo_Fantozzi', 1741, 'g3,e5,e3,d5,c3,Nc6,d4,Nf6,dxe5,Nxe5,Bg2,Be6,Ne2,Bg4,Qa4+,c6,Qc2,Nf3+,Bxf3,Bxf3,Rg1,Bd6,Nd4,Be4,Qe2,Qd7,Nd2,Qh3,Nxe4,Nxe4,Nf3,O-O,Qf1,Qg4,Nd2,Rad8,f3,Nxd2,Bxd2,Qf5,g4,Qc2,Bc1,Bxh2', 'Rg2,Bg3+,Rxg3', 'https://lichess.org/training/Dmc83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DMcpO', 'Rapid', 'Lenzi2007', 1659, 'wkdwlstjr5209', 1886, 'd4,d5,Nf3,Nf6,c4,c6,e3,Bf5,Nc3,dxc4,Bxc4,b5,Bb3,e6,O-O,Bd6,Re1,Ne4,Nxe4,Bxe4,Bc2,f5,Bxe4,fxe4,Nd2,Qh4,g3,Qe7,Nxe4,O-O,Nxd6,Qxd6,Bd2,a5,a3,Nd7,Rc1,Nb6,Qc2,Nc4,Ra1,Ra7,b4,a4,Rec1,Raf7,f4,e5,fxe5,Qd5,Be1,Nxe3,Qxc6,Qg2+,Qxg2', 'Rf1+,Qxf1,Rxf1#', 'https://lichess.org/training/DMcpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DMDc2', 'Rapid', 'Gothic_n', 1876, 'Molesses-like', 1940, 'd4,c6,c4,d5,e3,e6,Nf3,Nf6,Nc3,Bd6,Be2,O-O,O-O,Nbd7,b3,Re8,Bb2,e5,cxd5,cxd5,Bb5,e4,Nd2,a6,Be2,Qc7,Rc1,Bxh2+,Kh1,Qd6,g3,Bxg3,fxg3,Qxg3,Qe1,Qh3+,Kg1,Nf8,Qf2,Ng4', 'Qxf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/DMDc2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DmENw', 'Rapid', 'myspys', 1714, 'Kick9', 1755, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Qg6,Bf3,c6,Nge2,Bf5,d3,e5,O-O,Nd7,Ng3,O-O-O,Be3,a6,Nxf5,Qxf5,h3,g5,Bg4,Qg6,Qd2,Be7,Bb6,Re8,Ne4', 'f5,Bxf5,Qxf5', 'https://lichess.org/training/DmENw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DMgE5', 'Blitz', 'hklb78', 1768, 'DmitriyPenza', 1732, 'e4,c5,Nc3,Nc6,Nf3,g6,g3,Bg7,Bg2,Nf6,O-O,O-O,d3,d6,Bg5,Bd7,Re1,h6,Be3,a6,Qd2,Kh7,d4,cxd4,Nxd4,Qc7,Kh1,Rab8,f4,Ng4,Bg1,Qa5,h3,Nf6,g4,Nxd4,Bxd4,Bc6,e5,Bxg2+,Qxg2,dxe5,Bxe5,Rbd8,Rad1,Qb4,Ne4,Nd7,Bxg7,Kxg7,b3,Nc5,Nxc5,Qxc5,Qxb7,Qxc2,Rxd8,Rxd8,Qxe7,Rd2,Qe4', 'Rh2+,Kg1,Qf2#', 'https://lichess.org/training/DMgE5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DMgov', 'Rapid', 'MyKillCheckSun', 1925, 'BalikoevSD', 1868, 'e4,e6,d3,c5,c3,Nc6,Qc2,a6,Nd2,b5,a4,b4,Ngf3,a5,Be2,Ba6,c4,Qb6,b3,e5,Bb2,d6,Nf1,Bc8,Ne3,g6,Nd5,Qd8,h3,h6,Nd2,f5,exf5,Bxf5,g4,Be6,f4,Rc8,Nf3,Bg7,Ne3,Nd4,Bxd4,exd4,Ng2,Ne7,Nfh4,O-O,O-O,d5,Rae1,Bf7,Bf3,dxc4,dxc4,d3,Qb1,Nc6,f5,g5,Ng6,Bxg6,fxg6,Nd4,Bd5+,Kh8,Qxd3,Rxf1+,Rxf1,Qe7,Rf7,Qe5,Qf1', 'Ne2+,Qxe2,Qxe2', 'https://lichess.org/training/DMgov');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmgwE', 'Rapid', 'SaadEjaz', 1713, 'SnowHoundd', 1736, 'd4,d5,c4,e6,e3,Nf6,Nf3,Bb4+,Nc3,O-O,Bd3,dxc4,Bxc4,Ne4,Qb3,Qd6,O-O,Nxc3,bxc3,Ba5,Ba3,Qd8,Bxf8,Qxf8,Ne5,Nc6,Nxc6,bxc6,Qa4,Bxc3,Rfc1,Bxa1,Rxa1,Bb7,Rb1,Rb8,Qa5,Qd6,Ba6,c5,Bxb7,cxd4,Qxa7,Rd8,Rd1,d3,Be4,c5,Qa4,d2,Qc2,f5,Bf3,g5,h3,Kg7,Kf1,Kg6,Ke2', 'Qa6+,Qc4,Qxc4#', 'https://lichess.org/training/dmgwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dMHju', 'Blitz', 'GeoffreyVannevar', 1673, 'Sitraka89', 1713, 'e4,c5,Nf3,Nc6,g3,d5,exd5,Qxd5,Bg2,Qe4+,Kf1,Bg4,Nc3,Qc4+,d3,Qe6,Nb5,O-O-O,Bf4,a6,Nc7,Qf5,c3,f6,Qa4,Qxd3+,Kg1,Bxf3,Nxa6,Bxg2,Nxc5,Qd5', 'Qa8+,Nb8,Qxb8#', 'https://lichess.org/training/dMHju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dMhQj', 'Blitz', 'WFM hjvl', 2333, 'GM FCChelsea14', 2595, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd3,d5,a3,Bxc3+,bxc3,c5,cxd5,exd5,Ne2,Nc6,O-O,Bg4,f3,Bh5,Nf4,Bg6,Bxg6,hxg6,dxc5,Rc8,Nd3,Qe7,Qa4,Nd7,Qb5,Nde5,Nf4,Rfd8,Rd1,Qg5,Kh1,Nc4,e4,dxe4,Nd5,Qxd5,Rxd5,Rxd5,Bf4,N6a5,fxe4,Rdxc5,Qd7,Nb6,Qe7,Rxc3,Rf1,Rd3,Bd6,Nac4,Qxf7+,Kh7,Bf8,Rd7,Qf3,Ne5,Qh3+,Kg8,Bb4,Re8,Bc3', 'Rd3,Qh4,Rxc3', 'https://lichess.org/training/dMhQj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dmice', 'Rapid', 'BuBu-007', 1822, 'jskrillz', 1686, 'e4,c5,Nf3,Nc6,Bc4,e6,a4,d5,exd5,exd5,Be2,Bg4,O-O,Bd6,Re1,Nge7,d3,O-O,Nc3,Qc7,Nb5,Qd7,Nxd6,Qxd6,b3,Bxf3,Bxf3,Nd4,Bb2,Nec6,c3,Nxf3+,Qxf3,Ne5,Qg3,Rfe8,c4,d4,Re4,Re6,Rae1,Rae8,Bc1,Ng6', 'Qxd6,Rxd6,Rxe8+', 'https://lichess.org/training/Dmice');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmIou', 'Classical', 'kaito33', 1882, 'atulg', 1934, 'e4,c5,Bc4,Nc6,Nf3,e5,d3,Be7,Nc3,d6,O-O,h6,h3,Nf6,Be3,a6,Qd2,Nd4,Bxd4,cxd4,Nd5,b5,Bb3,Bb7,c3,dxc3,Qxc3,Rc8,Qb4,O-O,Nxf6+,Bxf6,Rac1,Qb6,Bd5,Bxd5,exd5,a5,Qb3,Rc5,a4,b4,Rxc5,dxc5,Re1,Qd6,Qc4,Rd8,Qb5,Qxd5,Qxa5,Ra8,Qb5,Rd8,Rd1,e4,Ne1,Bxb2,a5,Bc3,Nc2,exd3,Ne3,Qd6,Nf5,Qe5,Rxd3,Rxd3,Qxd3,b3,a6,b2,a7,Qe1+,Kh2,Be5+,Ng3,b1=Q,a8=Q+,Bb8,Qd8+,Kh7,Qaxb8', 'Qg1#', 'https://lichess.org/training/dmIou');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dMitJ', 'Rapid', 'Teimoso', 1964, 'ezerivera', 1834, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be2,Nc6,Nxc6,bxc6,h4,Qa5+,c3,Nf6,Bf3,h5,Be3,Rb8,Qc2,Qb5,b3,O-O,Nd2,d5,Rc1,Ba6,c4,Qb4,exd5,cxd5,O-O,dxc4,Nxc4,Rbc8,Be2,Ng4,Bd2,Qc5,Qe4,Bd4,Bxg4,hxg4,Qxg4,e5,Ne3,Qb5,Rxc8,Rxc8,Nc4,Rxc4,bxc4,Qxc4,Rc1', 'Bxf2+,Kxf2,Qxg4', 'https://lichess.org/training/dMitJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmj2s', 'Blitz', 'bahaa1981', 1680, 'DJFilipp45', 1707, 'e4,d5,exd5,Qxd5,Nf3,Qe6+,Be2,Nc6,Nc3,Qg6,d3,e5,O-O,Be7,Kh1,Bd7,Nd5,Bd6,Bg5,h6,Bh4,Nf6,Nxf6+,gxf6,g3,O-O-O,c4,Nd4,Nxd4,exd4,Bf3,Bc5,Bg2,Rde8,Qf3,Bc6,Qxf6,Bxg2+,Kxg2,Qg4,Qxf7,Rhf8,Qd5,Bb6,a3,Rf5,h3,Qg6,Rae1,Rxd5,Rxe8+,Qxe8,cxd5,Qe2,Rb1,Qxd3,Re1,Bc5', 'Re8+,Kd7,Rd8#', 'https://lichess.org/training/dmj2s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmJhx', 'Rapid', 'prof-emeritus', 1879, 'tolya1975', 1728, 'd4,d5,c4,e6,Nc3,c6,Nf3,dxc4,e3,b5,a4,b4,Ne4,Ba6,Qc2,f5,Neg5,Qd5,Ne5,Nh6,Bxc4,Bxc4,Nxc4', 'Qxg2,Rf1,Qxg5', 'https://lichess.org/training/dmJhx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DMjMl', 'Rapid', 'Alflstine', 1844, 'ssaaeed', 1974, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,a6,Ba4,O-O,d4,exd4,cxd4,Ba7,d5,Nb8,e5,d6,exd6,Qxd6,Nc3,Bf5,Re1,Ng6,Bb3,Nd7,Be3,Bxe3,fxe3,Rfe8,e4,Bg4,h3,Bxf3,Qxf3,Nde5,Qg3,Kh8,Rad1,Rf8,Ne2,f5,exf5,Rxf5,Nd4,Rf6,Ne6', 'Nf3+,Qxf3,Rxf3', 'https://lichess.org/training/DMjMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dMKFy', 'Blitz', 'mstat', 1518, 'riojarocket', 1534, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,d3,h6,Be3,Bxe3,fxe3,d6,O-O,Bg4,a3,Qd7,Nd5,Nxd5,Bxd5,Ne7,Bxb7,Rb8,Bd5,f5,b4,g5,c4,Bxf3,Qxf3,g4,Qg3,h5,exf5,Nxf5,Rxf5,Qxf5,Rf1,Qxd3,Bf7+,Ke7,Qh4+,Kd7,Qf6,Rbf8,Qe6+,Kc6,b5+,Kb6,Qd7,Qxe3+,Rf2,Rh7', 'Qc6+,Ka5,Qa6#', 'https://lichess.org/training/dMKFy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DmKKg', 'Blitz', 'lorenzius_ant', 1660, 'maxim2062', 1718, 'e4,c5,Nf3,d6,Bc4,g6,c3,Bg7,h3,Nf6,d3,Nc6,O-O,a6,Ng5,O-O,Be3,b5,Bb3,Bb7,Bc2,h6,Nf3,Kh7,d4,cxd4,cxd4,Nd7,a3,Rc8,Nc3,e5,d5,Ne7,Qd2,Nc5,Nh2,g5,b4,Nd7,Bd1,Ng6,Bg4,Rc4,Bf5,Bc8,Ne2,Nf6,Ng3,Bxf5,exf5,Nf4,Ng4,Nxg4,hxg4,Qa8,Bxf4,exf4,Nh5,Re8,f6,Bh8,Qd3+,Kg8,Qf5,Re5,Qd7,Qe8,Qxd6,Rd4,Rae1,Rdxd5,Rxe5,Rxe5,Qe7,Qxe7,fxe7,Rxe7,f3,Bd4+,Kh2,Re3,Rd1,Bb2,Rd8+,Kh7,Nf6+,Kg6,Ne4,Bxa3', 'Rg8+,Kh7,Nf6#', 'https://lichess.org/training/DmKKg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmLII', 'Classical', 'knightoffrozenlake', 1926, 'mehdi_z', 1930, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,Ngf3,Bg4,h3,Bh5,g4,Bg6,dxc5,Bxc5,Nb3,Bb6,Bg2,Ne7,O-O,O-O,c3,Nbc6,Nbd4,a6,Bf4,Be4,Qd2,Ng6,Bg3,Qd7,Rfe1,f5,gxf5,Bxf5,Nxf5,Rxf5,Nh4,Nxh4,Bxh4,Raf8,Rad1,Ne5,Qxd5+,Qxd5,Rxd5,Nf3+,Bxf3,Rxf3,Re2,Rxh3,Be7,Rf4,Rg5,Rfh4,Kf1,Rh1+,Rg1,Rxg1+,Kxg1,Rg4+,Kh2,Bc7+,Kh3,h5,Bh4,g5,Bg3,Bb6,Re5,Kf7,f3', 'Rxg3+,Kxg3,Bc7', 'https://lichess.org/training/dmLII');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DmMgv', 'Blitz', 'sambosam', 1686, 'wuppio', 1769, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,Bb4,Bg5,O-O,Bd3,d6,O-O,Bxc3,bxc3,Bg4,h3,Bh5,g4,Bg6,Nh4,h6,Nxg6,fxg6,Bh4,g5,Bg3,Qe7,Rb1,b6,Bb5,Na5,Qd3,Rac8,Rfd1,Rc5,c4,Rfc8,f3,Nxc4,Ba4,a6,Bb3,b5,Qxd6,Qxd6,Rxd6,Kh7,Rxa6,Nd2,Rd1,Nxf3+,Kg2,Nd4,Be6,Nxe6,Rxe6,Nxe4,Bxe5,Rxc2+,Kf3,Nc3,Bxc3,R8xc3+,Re3,Rxe3+,Kxe3,Rxa2,Rb1,Ra3+,Ke4,Rxh3,Rxb5,Rh4,Kf5,g6+,Kf6,Rxg4,Rb7+,Kh8', 'Kxg6,Rd4,Rb8+,Rd8,Rxd8#', 'https://lichess.org/training/DmMgv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DMoH1', 'Rapid', 'zhdanov47', 1729, 'Abscissa', 1680, 'e4,e5,Nf3,Nc6,c3,Nf6,Bd3,d5,exd5,Qxd5,Bc2,Bg4,Bb3,Qd7,h3,Bh5,g4,Bg6,d4,Be4,Nbd2,exd4,Nxe4,Nxe4,Nxd4,Nxd4,Qxd4,Qxd4,cxd4,f6,Be3,O-O-O,Bc2,Nd6,Rc1,Kb8,Bd3,g6,Kd2,Bg7,Rc2,Rhe8,Rhc1,c6,Bf4,Ka8,d5,cxd5,Rc7,Ne4+,Bxe4,dxe4+,Ke3,Bf8,Rxh7,Rc8,Rxc8+,Rxc8,Rc7,Bc5+,Ke2,Rxc7,Bxc7,b6,Bd8,Bd4,b3,Kb7,f4,Kc6,h4,Kb5,h5,gxh5,gxh5,f5,Be7,Kc6,h6,Kd7,Bf8,Ke8,Bb4,Kf7,Bd6,Kg6,Be5,Kxh6,Bxd4,Kh5,Ke3,Kg4,Be5,Kg3,Bb8,a6,Bc7,b5,a3,Kg2,a4,bxa4,bxa4,Kg3,Kd4,Kf3,Kc3,e3,Ba5,Kxf4,Kd3,Kf3,Kd4,f4,Be1', 'Ke2,Bh4,f3', 'https://lichess.org/training/DMoH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmoi1', 'Rapid', 'Lydiavandyck', 1622, 'yusufberk27', 1730, 'd4,d5,c4,c6,Nc3,Nf6,h3,Bf5,a3,e6,c5,Nbd7,Nf3,b6,b4,a5,Bf4,axb4,axb4,b5,e3,Be7,Be2,O-O,O-O,h6,Ne5,Nxe5,Bxe5,Ne4,Nxe4,Bxe4,Bd3', 'Rxa1,Qxa1,Bxd3', 'https://lichess.org/training/dmoi1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmprL', 'Blitz', 'PowerGamer2002', 2097, 'Chubbyserg', 2377, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Nf6,O-O,O-O,h3,c6,Bg5,Nbd7,c3,Qb6,Qc2,Qc7,Nbd2,h6,Bxf6,Nxf6,Rfe1,Bd7,Ne5,Rae8,Ndf3,Bc8,Re2,Nd7', 'Bh7+,Kh8,Nxf7+,Rxf7,Rxe8+', 'https://lichess.org/training/dmprL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DmPVj', 'Rapid', 'Lakshya7sachdev', 1698, 'Temboja', 1694, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Bf5,d3,e6,Bd2,c6,Nd5,Qd8,Nc3,Nf6,f4,Bd6,Nf3,Qc7,g3,Nbd7,Qe2,Bg4,h3,Bxf3,Qxf3,O-O-O,O-O-O,Nb6,Bb3,Nfd5,Nxd5,Nxd5,Qg4,f5,Qf3,Kb8,Rde1,Rhe8,Re2,e5,Rhe1,Rd7,Bxd5,cxd5,Qxd5,Bc5,Qc4,Rd4,Qb3,e4,Bc3,Rd6,dxe4,Rb6,Be5,Bd6,Bxd6,Qxd6,Qf7,Re7,Qf8+,Kc7,Rd2,Qb4,Qd8+,Kc6,Qd5+,Kc7,Qb3,Rxe4,Qxb4', 'Rxe1+,Rd1,Rxd1+,Kxd1,Rxb4', 'https://lichess.org/training/DmPVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dMPVm', 'Blitz', 'IM Mischuk_D', 2684, 'Ponimanie', 2514, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,a6,c5,g6,Bf4,Bg7,e3,O-O,h3,Re8,Be2,Nfd7,O-O,e5,Bh2,e4,Nd2,Nf8,b4,f5,a4,Ne6,Rb1,f4,Bg4,fxe3,fxe3,h5,Bxe6+,Bxe6,Qe2,Nd7,Nb3,Bh6,Na5,Rb8,Bxb8,Qxb8,Rf2,Qg3,Nd1,Bxh3,Nxb7,Bg4,Qe1,Bxd1', 'Rf8+,Rxf8,Qxg3', 'https://lichess.org/training/dMPVm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dMQFN', 'Rapid', 'Ikllu', 1987, 'arkadyNa', 2030, 'b4,d6,Bb2,e5,e3,Nf6,Nf3,Be7,Bc4,e4,Nd4,d5,Bb3,Bxb4,c3,Be7,O-O,c5,Ne2,O-O,Ng3,Bg4,Qc2,h5,Re1,h4,Ne2,b5,Qc1,c4,Bd1,Nc6,a4,Ne5,Bc2,Bxe2,Rxe2,h3,gxh3,Nf3+,Kh1,Qd7,Qf1,Qf5,axb5,Nd7,Ra6,Nde5,Na3,Nh4,Re1,Bc5,Bd1,Nef3,Bxf3,Nxf3,Ra1,Bb6,Nc2,Bc7,Ba3,Nxd2,Qg2,Rfe8,Rg1,Qe5,Nd4,Nf3,Nxf3,exf3,Qg3,Re6,Rxe6,fxe6,Rb1,Rf8,Bxf8,Kxf8,Qxf3+,Ke7,Qg3', 'Qe4+,f3,Qxb1+', 'https://lichess.org/training/dMQFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmRTN', 'Rapid', 'allen82', 1615, 'Gegus', 1800, 'd4,d5,c4,e6,e3,Nf6,h3,Bb4+,Bd2,Qe7,a3,Bxd2+,Nxd2,O-O,Ngf3,Nc6,c5,e5,Nb3,exd4,Nfxd4,Bd7,Rc1,Rfe8,Be2,Ne4,O-O,f5,Re1,Qh4,Rf1,f4,Bf3,Ne5,Bxe4,dxe4,exf4,Qxf4,Ne2,Qh4,Qd4,Bxh3,Ng3,Bxg2,Kxg2,Nf3,Qc4+,Kh8,Rh1,Qg4,Rcd1,Nh4+,Kf1,Qf3,Rxh4,Qxd1+,Kg2,Qf3+,Kg1,Rf8,Nxe4,Rad8', 'Rxh7+,Kxh7,Ng5+,Kg6,Nxf3', 'https://lichess.org/training/dmRTN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DmS00', 'Blitz', 'Musa_Musayev', 1595, 'ahmedalsatri', 1578, 'e4,c5,Nf3,d6,Nc3,Nc6,Bb5,Nf6,O-O,g6,e5,dxe5,Nxe5,Bd7,Nxd7,Qxd7,d3,Bg7,Bd2,O-O,Re1,e6,h3,a6,Bxc6,Qxc6,Qc1,b5,Bh6,Bxh6,Qxh6,Nd5,Ne4,c4,Ng5,Nf6,dxc4,Qxc4,c3,Rad8,Rad1,Qxa2,Rxd8,Rxd8,Qh4,Kg7,Qb4,Rd2,Qe7,Rd7', 'Nxe6+,Qxe6,Rxe6,Rxe7,Rxe7', 'https://lichess.org/training/DmS00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dms2d', 'Rapid', 'k64141092', 1838, 'kishanla', 1612, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb3,Be7,Nc3,Nc6,Nd5,Nf6,Bd3,O-O,O-O,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/dms2d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DMTlZ', 'Classical', 'runyanavenue', 1679, 'eliasr_98', 1729, 'd4,d5,c4,c6,e3,Nf6,Nc3,g6,Nf3,Bg4,h3,Bxf3,Qxf3,Bg7,Bd3,O-O,O-O,dxc4,Bxc4,Nbd7,Rd1,Nb6,Bd3,Nfd5,Ne2,Nb4,a3,Nxd3,Rxd3,Nc4,b3', 'Ne5,dxe5,Qxd3', 'https://lichess.org/training/DMTlZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmTZi', 'Rapid', 'Up-totop', 2083, 'sistero', 2099, 'd4,d5,g3,Nf6,Bg2,e6,Bg5,Be7,Nd2,c5,e3,cxd4,exd4,Nc6,c3,a6,Qc2,b5,Ne2,h6,Bf4,Bb7,O-O,Rc8,Qd3,Qd7,a3,Na5,Rab1,Nc4,Nxc4,dxc4,Qc2,Bxg2,Kxg2,Qd5+,f3,g5,Be5,O-O,Bxf6,Bxf6,Ng1,Bg7,Rbe1,f5,Nh3,Rcd8,Qe2,Rde8,Kg1,e5,dxe5,Bxe5,Qd1,Qc6,f4,Qc5+,Rf2,Bc7,fxg5,hxg5,Kf1,Qc6,Qh5', 'Qh1+,Ng1,Rxe1+,Kxe1,Qxg1+', 'https://lichess.org/training/dmTZi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmurc', 'Rapid', 'TonyJohan', 1797, 'tasodio', 1811, 'e4,c6,d4,d5,e5,Bf5,Qf3,Bg6,Bd3,Bxd3,Qxd3,e6,Nf3,c5,c3,Nc6,Be3,c4,Qd1,Qb6,b3,Qa5,bxc4,dxc4,O-O,b5,Ne1,g6,a3,Bg7,Nc2,Nge7,d5,Nxd5,Bc5,Bxe5,Nb4,Ncxb4,cxb4,Qc7,Ra2,Bxh2+,Kh1,Bd6,Qd4,O-O,Rd2,Rac8,Bxd6,Qxd6,Nc3,Rcd8,Nxb5,Qe7,Qxc4,Qg5,Rd3,Nf4,Rg3,Qh5+,Kg1,Rc8,Qxf4,Qxb5,a4,Qxa4,Qh6,Qxb4', 'Rh3,Rfe8,Qxh7+', 'https://lichess.org/training/dmurc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmvwH', 'Classical', 'TBland', 1640, 'digitals', 1709, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,Nxe4,Qe2,d5,Qb5+,c6,Qe2,Nd7,Nxd7,Bxd7,Nd2,f5,Nxe4,dxe4,Bf4,O-O-O,Qd2,g5,Bxg5,e3,Bxe3', 'f4,O-O-O,fxe3', 'https://lichess.org/training/dmvwH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DMwk5', 'Blitz', 'Evaster', 2201, 'StannisBaratheon', 2259, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,Nc3,Nf6,Bc4,O-O,O-O,Ng4,Qxg4,Nxd4,Qg3,Nxc2,f4,Nxa1,Rxa1,Qc7,Bb3,d6,Nd5,Qd8,f5,Bd7,Bg5,Re8,fxg6,hxg6,Rf1,Be6,h4,Be5,Qf3,f6,Nf4,Bxb3,Qxb3+,e6,Kh1,Bxf4,Bxf4,Qd7,Rd1,Qh7,Qg3,e5,Be3,Rad8,Kg1,Qh5,Rf1,Kf7,Bxa7,d5,exd5,Rxd5,Qb3,Rd8,Qxb7+,R8d7,Qb3,Kg7,Be3,Rd1,Qb6,Rxf1+,Kxf1,Qd1+,Kf2,Qc2+,Kg1,Qb1+,Kh2,Qxa2,h5,gxh5,Qc6,Qd5,Qc8,Kf7,Qh8,Ke6,Qxh5,Qe4,Qe8+,Re7,Qc8+,Kf7,Bf2,Qf4+,Bg3,Qh6+,Kg1,Qg6,Bf2,Qe4,Bc5,Qe1+,Kh2,Qh4+,Kg1,Qe1+,Kh2,Re8', 'Qd7+,Kg6,Qxe8+', 'https://lichess.org/training/DMwk5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DMWWC', 'Rapid', 'MarkusErwin', 2026, 'beethoven2351', 1914, 'c4,Nf6,g3,g6,Bg2,Bg7,Nf3,d6,O-O,O-O,Nc3,e5,d4,exd4,Nxd4,Nbd7,b3,Nc5,Bb2,c6,Qd2,Re8,Rfe1,Ne6,Rad1,Nxd4,Qxd4,Nd5,Qd2,Nxc3,Bxc3,Bxc3,Qxc3,Bf5,e4,Bg4,f3,Be6,Qd4,Qb6,Qxb6,axb6,a4,Red8,f4,b5,axb5,cxb5,Bf1,bxc4,Bxc4,Bxc4,bxc4,Ra2,Rd4,Rc2,e5,Rc8,exd6,R8xc4,Red1,Rxd4,Rxd4,Rc8,Kf2,Kf8,Kf3,Rd8,Kg4,h6,f5,Ke8,Re4+,Kd7,Re7+,Kxd6,Rxb7,Rd7,Rb6+,Ke5', 'fxg6,fxg6,Rxg6', 'https://lichess.org/training/DMWWC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dmZB9', 'Classical', 'mario878', 1825, 'kamarova2006', 1913, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,b3,Nf6,Bb2,d6,O-O,Bg4,h3,Bh5,Nbd2,O-O,Qe1,Bxf3,Nxf3,Nh5,Kh1,Nf4,Kh2,Qf6,Qd1,Qg6,Nh4,Qg5,g3,Ne6,Bc1,Qf6,f4,exf4,Bxf4,Nxf4,Rxf4,Qg5,Rg4,Qe3,Rxg7+,Kh8,Rxf7', 'Rxf7,Bxf7,Qf2+', 'https://lichess.org/training/dmZB9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dMZgT', 'Rapid', 'Tobask', 1638, 'Irdagoal', 1611, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,Bc5,Be3,Bxe3,fxe3,d6,O-O,Ng4,Bxf7+,Ke7,Qe1,Rf8,Bh5,Nf6,Qh4,Be6,Nfd2', 'g5,Qe1,Nxh5', 'https://lichess.org/training/dMZgT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DN1AI', 'Rapid', 'Adnanaltaleb11', 2187, 'bio-vollkorn', 2166, 'e4,c6,d3,d5,Nd2,dxe4,dxe4,e5,Ngf3,Bg4,g3,Nf6,Bg2,Nbd7,h3,Bh5,O-O,Qc7,b3,O-O-O,c4,Nc5,Qe2,Nd3,g4,Bg6,Nh4,Bc5,a3,Bd4,Rb1,Nxc1,Rfxc1,Nd7,Ndf3,Nc5,Nxd4,Rxd4,b4,Nxe4', 'Nxg6,hxg6,Bxe4', 'https://lichess.org/training/DN1AI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dN22E', 'Rapid', 'skype2018', 1723, 'KonstantinKiskinov', 1749, 'e4,e5,Nf3,Nf6,Bc4,d5,exd5,e4,Ne5,Nxd5,Nxf7,Kxf7,Qh5+,g6,Bxd5+,Be6,Qe5,Bxd5,Qxh8,h6,d3', 'Bb4+,c3,Qxh8', 'https://lichess.org/training/dN22E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dn2v4', 'Rapid', 'Vadik10', 1993, 'kasquarrov', 1957, 'e4,e5,Nf3,d6,Bc4,c6,O-O,Be7,Re1,Nf6,h3,O-O,Nc3,b5,Bb3,a5,a4,b4,Nb1,Qc7,c4,h6,d4,Nbd7,Nbd2,Re8,Nf1,Nf8,Ng3,Ng6,Be3,Kh7,Qc2,Bf8,Rad1,Bb7,d5,c5,Qd2,Ng8,Bc2,Bc8,b3,Bd7,Nf5,Rad8,g4,N6e7,Kg2,Nxf5,gxf5,Nf6,Rh1,Bc8,Rdg1,Nh5,Kf1,Be7,h4,Rg8,Rg4,Rdf8,Rhg1,Qd8,Ke2,Bd7,Qe1,Bc8,Qf1,Nf6,R4g3,Nh5,Rg4,Nf6,R4g2,Nh5,Rh2,Nf4+,Kd2,Nh5,Kc1,Bf6,Rg4,Be7,Rhg2,Nf6,R4g3,Nh5,Rh3,Nf4,Bxf4,exf4,Rh1,Bf6,Qd3,Re8,Qd2,Be5', 'Ng5+,Kh8,Nxf7+', 'https://lichess.org/training/Dn2v4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DN8Wc', 'Rapid', 'Yevgeny13', 1734, 'deepanshah', 1692, 'd4,Nf6,Bf4,d6,Nf3,g6,e3,Bg7,Bd3,O-O,c3,Bg4,Nbd2,Nbd7,h3,Be6,Ng5,Bd5,e4,e5,Be3,exd4,cxd4,Bc6,d5,Ne5,Be2,Bd7,h4,h6,Ngf3,Nfg4,Bf4,Qf6,Nxe5,Nxe5,Be3,Qe7,f4,f5,fxe5,Qxe5,O-O,fxe4,Nc4,Qg3,Bf2,Qf4,g3,Qf7,Kh2,Qe7,Be3,Rf6,Qd2,Kh7,Rxf6,Qxf6,Rf1,Qe7,Bd4,Rf8,Bxg7,Kxg7,Qd4+,Kh7,Rxf8,Qxf8,Qxe4,Bb5,Kg2,c6,Bd3,Qf6,dxc6', 'Bxc6,Qxc6,bxc6', 'https://lichess.org/training/DN8Wc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNalN', 'Rapid', 'bnunbnybywbdyb', 1675, 'OdishaHyderabad', 1667, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Bd3,c4,Be2,Bd6,O-O,Nf6,Re1,O-O,d3,h6,dxc4,dxc4,Bxc4,Nc6,Bf4,Bxf4,Qxd8,Rxd8,g3,Bg5,Nxg5,hxg5,Nc3,Nd4,Rad1,Nf3+,Kf1,Nxe1', 'Rxd8+,Kh7,Kxe1', 'https://lichess.org/training/dNalN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DnAR5', 'Rapid', 'Elvis_Leal', 1652, 'Raphaelachess29', 1761, 'd4,e6,c4,d5,c5,b6,b4,bxc5,bxc5,a5,Bf4,Ba6,Nd2,c6,h3,Ne7,Ngf3,Ng6,Bh2,Be7,e3,Bxf1,Nxf1,O-O,N1d2,Na6,O-O,Nc7,Qa4,Nb5,Rab1,f6,Rb3,Kh8,Nb1,Re8,Nc3,Nxc3,Rxc3,Qd7,Rb1,Ra6,Rcb3,Rea8,Rb7,Qe8,Rb8,Rxb8,Rxb8,Bd8,Bc7,Nf8,Rxd8,Qe7,Bxa5', 'Qxd8,Bxd8,Rxa4', 'https://lichess.org/training/DnAR5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dnbio', 'Rapid', 'boardvision2019', 1738, 'LucaGN', 1856, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,O-O,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Qg4,Bd4,c3,Bf6,Qf3,Ne7,Bf4,Ng6,Bg3,O-O,Nd2,Be5,Nc4,f6,Qe3,Bxg3,Qxg3,Ne5,Ne3,g6,Nf5,Kh8,Nd4,Qd7,f4,Nc4,f5,g5,Ne6,Rg8,b3,Ne5,Rad1,Qf7,Rfe1,Rac8,h4', 'gxh4', 'https://lichess.org/training/Dnbio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNd5g', 'Rapid', 'ssehcretsam', 1634, 'justaprawn', 1661, 'g3,e5,Bg2,d5,b3,e4,Bb2,f6,e3,Ne7,Nh3,Ng6,O-O,Bd6,Qe2,Nc6,Nc3,Be5,Nf4,Nge7,Rab1,g5,Nh5,Be6,d4,exd3,cxd3,Qd7,d4,Bg4,dxe5,Bxe2,Nxf6+,Kd8,Nxd7,Bxf1,Kxf1,Kxd7,Nxd5,Nxd5,Bxd5,Rhf8,e6+,Ke8,Bxc6+,bxc6,e7,Rf5,e4,Ra5,b4,Rxa2,Bf6,g4', 'Rd1,Kf7,Rd8', 'https://lichess.org/training/dNd5g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DNeee', 'Rapid', 'abak000', 1876, 'Benji3359', 1971, 'e4,e5,Bc4,Nc6,c3,Nf6,d3,Bc5,Nf3,h6,O-O,O-O,b4,Bb6,a4,a5,b5,Ne7,Be3,c6,Nxe5,d5,exd5,Bxe3,fxe3,Nexd5,Bxd5,Qxd5,Nf3,cxb5,axb5,Qxb5,c4,Qc5,Qc1,Bg4,d4,Qe7,Ne5,Bh5,Nc3,Rfc8,Nb5,Ng4,e4,Nxe5,dxe5,Be2,Nd6,Bxf1,Qxf1,Rc5,Rb1,Rb8,Qf4,Rxe5,Nf5,Qc5+,Kh1,Rxf5', 'Qxb8+,Kh7,exf5', 'https://lichess.org/training/DNeee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNEMi', 'Classical', 'Arasvard1', 2116, 'garry574311', 2023, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nf3,e6,Nc3,c5,d5,exd5,exd5,Bd6,Bd3,O-O,O-O,N8d7,Bg5,f6,Bh4,Ne5,Nxe5,Bxe5,Qh5,g6,Bxg6,hxg6,Qxg6+,Kh8,Rad1,Qe8,Qh6+,Kg8,Bg3,Rf7,Bxe5,fxe5,Rd3,Qe7,Rg3+,Rg7,Ne4,Nd7,d6,Qf7,f4,Rxg3,fxe5,Rxg2+', 'Kxg2,Qg7+,Qxg7+,Kxg7,e6', 'https://lichess.org/training/dNEMi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DNeXY', 'Rapid', 'NM Ginger64', 2251, 'kolaleks', 2139, 'e4,d6,d4,Nf6,Nc3,Nbd7,Be2,c5,Nf3,a6,O-O,g6,e5,cxd4,exf6,dxc3,fxe7,Qxe7,bxc3,Bg7,Ba3,Nc5,Nd4,O-O,Bf3,Rb8,Rb1,Be6,Nc6', 'bxc6,Rxb8,Rxb8', 'https://lichess.org/training/DNeXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dnFr6', 'Blitz', 'Dkogan', 1908, 'LIOR1999', 1823, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Bd3,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Nc3,d6,O-O-O,Be6,Nd5,a5,Kb1,a4,Nc1,a3,Nb3,axb2,f4,exf4,Rhf1,Bxd5,exd5,Na5,Rxf4,Nxb3,cxb3,Ra5,Rdf1,Qb6,Rxf6,gxf6,Qe2,Qd4,Qc2,Rxa2,Bxh7+,Kh8,Kxa2', 'Ra8+,Kb1,Ra1#', 'https://lichess.org/training/dnFr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNguk', 'Blitz', 'Sweep105', 1805, 'f_tavasoli', 1815, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bb6,c3,a6,d4,exd4,cxd4,d6,O-O,Bg4,Qb3,Qe7,Nc3,Nxd4,Nxd4,Bxd4,Nd5,Qd7,Re1,Bxa1,Be3,Be5,f4,Bf6,e5,dxe5,fxe5,Be7,Bb6,c6,Nc7+,Kf8,Nxa8,Be6,Bxe6,fxe6,Rf1+,Ke8,Nc7+,Kd8,Nxe6+,Kc8,Qf3,Qxe6,Rd1,Nh6,Qf4,Rf8', 'Qxf8+,Bxf8,Rd8#', 'https://lichess.org/training/dNguk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DNh6d', 'Rapid', 'JhonMamani_ESCF', 1868, 'johnjshaposka', 1854, 'e4,c5,Nf3,g6,d4,Bg7,d5,d6,c4,Bg4,Qd3,Bxf3,Qxf3,Nd7,Bd3,Ne5,Qe2,Nf6,Bc2,Qb6,f4,Ned7,Nc3,O-O,O-O,h5,e5,dxe5,fxe5,Nh7,e6,fxe6,Rxf8+,Rxf8,Qxe6+', 'Qxe6,dxe6,Bd4+,Be3,Bxe3+', 'https://lichess.org/training/DNh6d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DnHCH', 'Blitz', 'WFM Arychess25', 2154, 'youssef-fork', 2133, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Bg5,Be7,Bxf6,Bxf6,Nf3,Nd7,Bd3,Be7,c3,Nf6,O-O,Nxe4,Bxe4,c5,dxc5,Qxd1,Raxd1,Bxc5,Ne5,f6,Nc4,Ke7,Rd2,e5,h3,Rb8,Rfd1,Be6,Bd5,Rhd8,Bxe6,Rxd2,Nxd2,Kxe6,Ne4,Be7,c4,b6,b3,f5,Nc3,Rd8,Rxd8,Bxd8,Kf1,Be7,Nd5,Bc5,Ke2,a5,f3,e4,fxe4,fxe4,g4,Ke5,h4,h5,gxh5,Kf5,Nc7,Kg4,Ne6,Kxh5,Nxg7+,Kxh4,Ne6,Kg4,Nxc5', 'bxc5,Ke3,Kf5,a3,Ke5,a4,Kf5', 'https://lichess.org/training/DnHCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DnHmx', 'Classical', 'eRZGR06', 1875, 'thelastpawn1', 1786, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Nc3,Ngxe5,Nxe5,Nxe5,Be2,d6,a3,a6,b4,Ba7,O-O,Be6,Nd5,c6,Nf4,Bxc4,Bxc4,Nxc4,Qg4,Qf6,Rb1,Ne5,Qg3,O-O-O,Bb2,h5,Qh3+,Kc7,Rfc1,g5', 'Nd5+,Kb8,Nxf6', 'https://lichess.org/training/DnHmx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNhT2', 'Rapid', 'QuezadaFranco', 1884, 'daltun', 1894, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,O-O,O-O,a6,a4,c5,Nde2,Nc6,Bf4,Bg4,f3,Be6,Nd5,Re8,Nec3,Na5,Ba2,h6,Qd2,Nc6,Rfd1,Nd4,Nxf6+,Bxf6,Nd5,Be5,c3,Bxf4,Nxf4,Bxa2,Rxa2,Ne6,Nd5,Qa5,b4,cxb4,cxb4,Qd8,a5,Rc8,Nb6,Rc6,Rc2,Rxc2,Qxc2,Qe7,Qd2,Rd8,Rc1,Nc7,Nd5,Nxd5,Qxd5,Kf8,Kf2,f6,f4,Re8,Kf3,Rd8,h4,Qd7,g4,Qe7,Rd1,Qc7,Rd3,Qc6,Ke3,Qxd5,Rxd5,Ke7,Kd4,Rc8,e5,dxe5+,fxe5,fxe5+,Rxe5+,Kf6,Rf5+,Ke6,Re5+,Kd6,Rd5+,Ke6,Rc5,Rd8+,Kc4,Rd7,Rf5,Rd6,Rc5,Rc6', 'Rxc6+,bxc6,Kc5', 'https://lichess.org/training/dNhT2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dnigx', 'Classical', 'Mohmadsameh', 1640, 'Asds12', 1739, 'e4,c5,c4,e6,Nf3,d6,Nc3,a6,d4,cxd4,Nxd4,Nc6,Be2,g6,Qa4,Ne7,Bg5,Bd7,Nf3,Bg7,Nd1,O-O,O-O,Qc7,Rc1,Ne5,Qb3,Nxf3+,Qxf3,Nc6,Bf4,Ne5,Qg3,Bc6,f3,Rad8,Ne3,Qb6,Kh1,Qxb2,Rfe1,Qxa2,Ng4,Nxg4,Qxg4,Rd7,Rcd1,Rfd8,Qg5,d5,cxd5,exd5,Rc1,dxe4,Bc4,Qb2,fxe4,Bxe4,h3,Bc6,Rf1,b5,Bxf7+,Kxf7', 'Be5+,Kg8,Bxb2', 'https://lichess.org/training/dnigx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DnITr', 'Rapid', 'JobaBamiro', 1655, 'Lubitel166', 1612, 'e4,Nc6,Nf3,e5,Bb5,d6,h3,Nf6,Nc3,Be6,O-O,Qd7,d4,Bxh3,d5,Bxg2,Bxc6,bxc6,Kxg2,Qg4+,Kh1,Qh3+,Nh2,h5,Qf3,Qxf3+,Nxf3,cxd5,Nxd5,Nxd5,exd5,f6,Nh4,g5,Ng6,Rh6,Nxf8,Kxf8,f3,Rg6,Kh2,Ke7,Bd2,Rb8,b3,f5,Rg1,g4,fxg4,hxg4,Raf1,f4,Kg2,Rh8,Rh1,Rgh6,Rxh6,Rxh6,Rh1', 'f3+,Kg1,f2+,Kxf2,Rxh1', 'https://lichess.org/training/DnITr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNK2q', 'Rapid', 'Ewgeni1935', 1908, 'yankar', 1909, 'e4,c5,f4,e6,Nf3,d5,e5,a6,c3,Nc6,Bd3,Qb6,Bc2,Bd7,O-O,c4+,Kh1,Nh6,d4,cxd3,Bxd3,Ng4,Nd4,h5,Be2,Bc5,Bxg4,Nxd4,cxd4,Bxd4,Bf3,Bxb2,Bxb2,Qxb2,Nd2,b5,Nb3,Rc8,Rc1,O-O,Rxc8,Rxc8,Bxh5,Qxa2,Nd4,Qb2,f5,Rc4,fxe6,fxe6,Nf3,Rc2,Rg1,b4,Qd3,Rc1,Qg6,Rxg1+,Nxg1,Qxe5,Qf7+,Kh8,Qxd7,Qxh5,Qc8+,Kh7,Qxe6,b3,Qxa6,Qf5,Qb6,Qc2,Qd8,Qc4,Qb8,Qc2,Qd8,Qc4,Qb8,d4,h3,d3,Nf3,Qc1+,Kh2,b2,Qe8,b1=Q,Qh5+,Qh6', 'Ng5+,Kh8,Qe8#', 'https://lichess.org/training/dNK2q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DnKE9', 'Rapid', 'Pestov1987', 1670, 'samuelec94', 1682, 'e4,e6,Nf3,g6,d4,b6,e5,Bb7,Bg5,Be7,Qd2,Bxg5,Nxg5,Ne7,Qf4,Nf5,Bd3,O-O,Bxf5,Bxg2,Rg1,exf5,Rxg2,d6,Qh4,h5,Nd2,Re8,O-O-O,dxe5,dxe5,Qd5,Ngf3,Nc6,Qxh5,Kg7,Qg5,Re6,h4,Nb4,Nb3', 'Nxa2+,Kb1,Qxd1+,Kxa2,Qxf3', 'https://lichess.org/training/DnKE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNkXU', 'Rapid', 'leomontes', 1960, 'Lirika2510', 1979, 'e4,c6,f4,d5,e5,Bf5,d4,e6,Nf3,Be7,c4,h5,Nc3,g6,Be2,Nh6,h3,Bh4+,Kf1,Be7,Kf2,Nd7,Rf1,a6,Kg1,Kf8,a3,Kg7,b4,b6,Kh1,c5,bxc5,bxc5,cxd5,cxd4,Nxd4,exd5,Nxd5,Bf8,Nxf5+,Nxf5,Re1,Qh4,Bf3,Rd8,Bb2,Kh6,Nf6,Nxf6,Qxd8,Bg7,exf6,Rxd8,fxg7,Nxg7,Re7,Qxf4,Be5,Qf5,Bb2,Re8', 'Bxg7+,Kxg7,Rxe8', 'https://lichess.org/training/dNkXU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DnMaD', 'Rapid', 'himdan', 2158, 'InfiniteFlash', 2190, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,d4,b5,Bb3,d5,dxe5,Be6,Be3,Be7,c3,O-O,Nbd2,Bg4,Nxe4,dxe4,Qxd8,Raxd8,Nd2,Nxe5,Nxe4,Nd3,f3,Bf5,Rab1,Rd7,Rfd1,Rfd8,Rd2,c5,a4,c4,Bc2,Bxe4,fxe4,Bc5,Bxc5,Nxc5,Rxd7,Rxd7,axb5,axb5,b4,Ne6,Rd1,Rxd1+,Bxd1,f6,Kf2,Kf7,Bg4,Ke7,Ke3,Kd6,g3,Ng5,Kd4,Ne6+', 'Bxe6,Kxe6,Kc5,Ke5,Kxb5', 'https://lichess.org/training/DnMaD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dnn94', 'Bullet', 'Stockfish23-NNU3', 2020, 'icymoves', 1996, 'd4,f5,Bf4,Nf6,f3,e6,Qd2,Be7,Nc3,O-O,a3,d6,O-O-O,Nbd7,e4,e5,Be3,f4,Bf2,Qe8,g3,g5,gxf4,gxf4,Bc4+,Kh8,Nge2,Qh5,Be6,Qxf3,Rdf1,Nxe4,Nxe4,Qxe4,dxe5,Nxe5,Bxc8,Raxc8,Bd4,f3,Nc3,Qf4,Be3,Qh4,Nd5,Bd8,Rhg1,c6,Nf4,d5,Ne6,Nc4,Bd4+,Bf6,Qc3,Qh6+,Kb1,Rf7,Bxf6+,Qxf6,Nd4,c5', 'Rxf3,cxd4,Rxf6,dxc3,Rxf7', 'https://lichess.org/training/dnn94');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DNNgr', 'Classical', 'mrlis116', 1862, 'zeytun9633', 1811, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,Bb4,Bd3,O-O,Bd2,Bxc3,Bxc3,Re8,O-O,d5,exd5,Nxd5,Re1,Nxc3,bxc3,Bg4,h3,Bh5,g4,Bg6,Rb1', 'e4', 'https://lichess.org/training/DNNgr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DNNTz', 'Rapid', 'matem32', 1722, 'alpha_vintage', 1699, 'd4,Nf6,Bg5,d5,Nf3,Nc6,Bxf6,exf6,Nc3,Bb4,Qd2,O-O,a3,Ba5,b4,Bb6,e3,Re8,Bd3,f5,O-O,f4,exf4,Bg4,Ne5,Nxe5,dxe5,Qh4,Nxd5,Rad8,Nxb6,axb6,Qe3,Re6,Qg3,Qh5,Qe3,f5,f3,Rg6,fxg4,Qxg4,Rf2,Kh8,Qg3,Qh5,Qf3,Rg4,h3,Rxg2+,Qxg2,Re8,Qg3,Re6,Be2,Qh6,Kh2,Rg6,Qd3,Qh4,Qxf5', 'Qxf2+,Kh1,Qg2#', 'https://lichess.org/training/DNNTz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DNnzB', 'Blitz', 'ivis1', 1728, 'BrotoERIC', 1634, 'e4,c5,Bc4,Nc6,c3,e6,Nf3,d5,exd5,exd5,Bb3,b5,a4,c4,Bc2,b4,cxb4,Nxb4,Na3,Nf6,O-O,Be7,h3,O-O,d3,Be6,dxc4,dxc4,Qxd8,Rfxd8,Be3,Nfd5,Be4,Rac8,Bxa7,Nf4,Bb6,Rd6,a5,f5,Bb7,Rf8,Nb5,Rd3,Ne5,Rb3,Rac1,Rxb2,Nxc4,Bxc4,Rxc4,Ne2+,Kh1,Nd3,Rc7,Bg5,Nd6,Bf4,Bd5+,Kh8,Nf7+,Kg8,Nh6+,Kh8,Nf7+,Kg8,Nh6+,Kh8,Nf7+,Kg8,Re7,h6,Ng5+,Kh8,Ne6,Rb8,Rxg7,R8xb6,axb6', 'Nxf2+,Rxf2,Rb1+,Rf1,Rxf1#', 'https://lichess.org/training/DNnzB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dno3x', 'Rapid', 'CHESSCHAPIN', 1781, 'sha2nk331', 1764, 'e4,e5,Nf3,Nc6,c3,Bc5,d4,Bb6,dxe5,Nge7,Bc4,O-O,O-O,Ng6,Bg5,Qe8,Qd5,Ncxe5,Nxe5,Nxe5,Bb3,c6,Qd2,d6,Kh1,Be6,f4,Bxb3,axb3,Ng4,Qe2,f6,Bh4,Ne3,Rf3,Nf5,Bf2,d5,Bxb6,axb6', 'Rxa8,Qxa8,exf5', 'https://lichess.org/training/dno3x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DnoEf', 'Classical', 'lr16', 1705, 'MfumuNsakuNeVunda', 1908, 'd4,d5,c4,Bf5,Nc3,e6,e3,c6,Bd3,Ne7,Nge2,Qa5,c5,Nd7,O-O,e5,a3,f6,b4,Qc7,Ng3,Be6,Qc2,g6,e4,f5,exf5,gxf5,dxe5,Nxe5,Bxf5,Nxf5,Nxf5,O-O-O,Bf4', 'Nf3+,gxf3,Qxf4', 'https://lichess.org/training/DnoEf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dnPJj', 'Rapid', 'albispark', 1882, 'petrovich6112', 1858, 'e4,d6,Nf3,e6,d4,c6,c4,Nd7,b3,Ne7,Bb2,Ng6,h3,e5,dxe5,dxe5,h4,Be7,h5,Nf4,Nxe5,Nxe5,Qxd8+,Bxd8,Bxe5,Ne6,h6,O-O,hxg7,Nxg7,Bc3,Bc7,Bd3,f5,Nd2,Bb6,f3,fxe4,Nxe4,Bf5,Nf6+,Rxf6,Bxf6,Bxd3,O-O-O,Bf5,g4,Bg6,Rd7,Be3+,Kb2,Bf7,Re1,Bb6,Ree7,Rf8,Rxb7,c5,Rbd7,h6,a4,Ba5,Rxa7,Bd8,Rxf7,Bxf6+,Rxf6,Rxf6,Rc7,Rxf3,Rxc5,Rf2+,Ka3,Rf8,a5,Ne6,Rh5,Kg7,Re5,Nd4,Re7+,Kf6,Rd7,Ke5,Rd5+,Ke4,b4,Rb8,b5,Rc8,Kb4,Nc2+,Kc3,Na3,Rd4+,Ke5,b6', 'Nb5+,Kd3,Nxd4', 'https://lichess.org/training/dnPJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dnpmq', 'Blitz', 'Passdar', 2410, 'IM ENERGIE73', 2397, 'd4,Nf6,Bf4,c5,d5,b5,c4,a6,Qc2,d6,Nf3,g6,e4,Bg7,h3,O-O,Be2,bxc4,Na3,Nxe4,Nxc4,Nf6,O-O,Nxd5,Bh2,Bb7,Rad1,Nc6,Rfe1,Rb8,a3,Na5,Nxa5,Qxa5,Bc4,e6,Bxd6,Bc6,Bxb8,Rxb8,Ne5,Ba8,b3,Qxa3,Qe2,Nf4,Qd2,Nxg2,Qd7,Rf8,Nxf7,Nxe1,Qxe6,Nf3+,Kf1,Bd4,Nd8+,Kg7', 'Qe7+,Kh6,Qxf8+', 'https://lichess.org/training/dnpmq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNqD2', 'Blitz', 'Dr_mARtIk', 2462, 'IM dragan961', 2452, 'e4,c5,a3,e6,b4,cxb4,axb4,Bxb4,c3,Be7,d4,d6,Bd3,Nf6,Nf3,O-O,O-O,Nc6,Nbd2,e5,d5,Nb8,Nc4,Nbd7,h3,a6,Be3,Qc7,Qe2,Nc5,Bxc5,Qxc5,Rfb1,b5,Na5,Bd7,c4,b4,Nb3,Qc7,c5,dxc5,Rxa6,Rxa6,Bxa6,Bd6,Bc4,Nh5,Ra1,Nf4,Qa2,f5,Nbd2,fxe4,Nxe4,Nxh3+,gxh3,Rxf3,Qa7,Qd8,Nxd6', 'Qg5+,Kf1,Bxh3+', 'https://lichess.org/training/dNqD2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNqwa', 'Rapid', 'Maarceloq', 2042, 'ryuhee322', 1987, 'e4,Nf6,d3,d5,exd5,Nxd5,Nf3,Bg4,Be2,e6,O-O,Bd6,h3,Bh5,Nbd2,Nf4,Ne4,Nc6,Nxd6+,Qxd6,Bxf4,Qxf4,c3,O-O,d4,Ne7,Qc1,Nd5,g3,Qe4,Qd1,f5,Kg2,g5,Bd3,Bxf3+,Qxf3,Qxf3+,Kxf3,f4,g4,Rae8,Rae1,Kg7,Bc4,c6,Bxd5,exd5,Kg2,Re4,f3,Re3,Kf2,Rfe8,Rxe3,Rxe3,Re1,Rxe1,Kxe1,Kg6,Kd2,h5,Kd3,hxg4,hxg4,Kf6,b3,b5,c4,Ke6,a3,dxc4+,bxc4,bxc4+,Kxc4,Kd6,a4,a5,Kd3', 'Kd5,Kc3,c5,dxc5,Kxc5', 'https://lichess.org/training/dNqwa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dnR8x', 'Blitz', 'VsyaVlastSovetam', 1921, 'stapanbebel', 1971, 'e4,b6,d4,Bb7,c3,e6,Bd3,Ne7,Ne2,Ng6,Be3,Nc6,Nd2,Nce7,a4,f5,a5,fxe4,Bxe4,Nc6,axb6,axb6,O-O,Be7,Bxg6+,hxg6,Rxa8,Qxa8,Qc2,Bd6,Qxg6+,Kd8,Qxg7', 'Bxh2+,Kh1,Be5+,Qxh8+,Bxh8', 'https://lichess.org/training/dnR8x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNraL', 'Classical', 'Abigzero', 1806, 'PetrovN', 1806, 'Nf3,Nf6,d4,g6,c4,Bg7,Qc2,d6,e4,O-O,h3,c5,d5,Nbd7,Be3,b6,Nbd2,Bb7,Rd1,a6,Be2,h6,O-O,a5,Nh2,Ne5,f4,Ned7,Rf3,h5,Ndf1,a4,Bd2,e6,Bc3,exd5,exd5,Re8,Ne3,a3,b3,Qe7,Bd3,Ne4,Bxg7,Kxg7,Re1,Nef6,Rg3,Ne4,Bxe4,Qxe4,Nf5+,Qxf5,Qxf5,Rxe1+,Kf2,Re7,Qxh5,Rh8,Qd1,Rhe8,Nf3,Nf6,Qa1,Re2+,Kg1,Bc8,Kh2,Bf5,Nh4,Be4,f5,Re5,fxg6,Nh5,Nf3,Nxg3,Kxg3,Bxf3,gxf3,Kxg6,h4,Rb2,Qd1,Rxa2', 'Qb1+,Kg7,Qxa2', 'https://lichess.org/training/dNraL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DNsBN', 'Rapid', 'naborjs', 1949, 'asepoyo', 1973, 'e4,c5,Nf3,g6,Bc4,Bg7,d4,cxd4,Nxd4,e6,O-O,a6,Nc3,Nf6,Re1,d6,Nd5,exd5,exd5+,Kf8,Bg5,h6,Bf4,Kg8,Qf3,Kh7,Bd3,Rf8,h4,Nh5,Qxh5,Bxd4,Qxh6+,Kg8,Bxg6,fxg6,Qxg6+,Bg7,Bg5,Qb6,Re2,Qxb2,Rae1,Qd4,Bh6,Bf5,Qg3,Nd7,Re7,Rf7,Rxf7,Kxf7,Bxg7,Qxg7', 'Re7+,Kxe7,Qxg7+', 'https://lichess.org/training/DNsBN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DNVos', 'Rapid', 'alex2111', 1818, 'katalan5', 1891, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Nc3,d5,exd5,exd5,Bd2,Nf6,Bd3,Bd6,h3,O-O,O-O,Rb8,Rb1,h6,Re1,Qc7,a3,Be6,Ne2,c5,c3,Rfd8,Qc1,Ne4,Bxe4,dxe4,Bf4,Bd5,Bxd6,Rxd6,c4,Ba8,Rd1,Rg6,Nf4,Rg5,Nd5,Qb7,Qe3,Re8,Qxc5,e3,fxe3,Qb8,Rd2,Qg3,Kh1,Kh7,Re2,Re4,Rbe1,Rh4,Qc8,Bxd5,cxd5,Rxd5,Qc2+,g6,e4,Rdh5,Qc3', 'Rxh3+,gxh3,Rxh3+,Rh2,Qxh2#', 'https://lichess.org/training/DNVos');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNWAs', 'Rapid', 'a7md258', 1740, 'apfei47', 1792, 'c4,c5,g3,g6,Bg2,Bg7,Nc3,Nc6,a3,d6,e3,Bd7,Nf3,Nf6,O-O,Rb8,h3,O-O,Qc2,a6,b3,Qc8,Kh2,e6,Bb2,d5,cxd5,exd5,Na4,b6,Rac1,Re8,Nc3,Qd8,Qd3,Ne4,Qxa6,Nxc3,dxc3,Na5,Nd2,Bc8,Qe2,d4,cxd4,cxd4,e4', 'd3,Qe3,Bxb2', 'https://lichess.org/training/dNWAs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DnX7o', 'Blitz', 'Rudiks', 2117, 'Ronalchess', 2150, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,Bd6,Bxd6,Qxd6,c3,b6,Nbd2,Bb7,Ne5,Nbd7,Ndf3,Ne4,Be2,Nxe5,Nxe5,f6,Nf3,O-O,O-O,c5,Rc1,c4,Re1,g5,Bf1,h5,Nd2,f5,Nxe4,fxe4,Qxh5,Qe7,Qg6+,Kh8,Be2,Qf6,Qxf6+,Rxf6,Bg4,Raf8,Re2,b5,a4,bxa4,Ra1,Bc6,Ra3,Kg7,h3,Rb8,f3,exf3,Bxf3,Rf7,Bg4,Kf6,Rf2+,Ke7,Re2,Kd6,Kh2,Rfb7,Ra2,a5,Rf2,Rb3,Kg3,a3,bxa3,Rxc3,Rf6,Bd7,Rf3,Rbb3,h4,gxh4+,Kxh4,Rxe3,Rf8,Rxa3,Raf2,Re4,R2f7,Rb3,Ra8,Rb7,Rxa5,e5,Rg7,Bxg4', 'Ra6+,Rb6,Rxb6#', 'https://lichess.org/training/DnX7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DNY0Z', 'Blitz', 'Depredador58', 2069, 'EJaureguiUCH', 2134, 'c4,c6,Nc3,d5,cxd5,cxd5,d4,Nf6,Nf3,Nc6,a3,a6,Bg5,Ne4,Bh4,Bf5,Rc1,Nxc3,Rxc3,Qb6,b4,e6,e3,Nxb4,Be2,Nc6,O-O,Bd6,Bg3,Bxg3,hxg3,O-O,Nh4,Bg6,Nxg6,hxg6,Qc2,Rfc8,Rb1,Qa7,Qb2,b5,Rc5,Na5,Rbc1,Nc4,Qb4,Rxc5,dxc5,Rc8,Bxc4,dxc4,a4,Qxc5,Qa5,Qa3,Rb1,Qxa4,Qxa4,bxa4,Kf1,Kf8,Ke1,Ke7,Kd2,Kd6,Kc3,Kc5,Rb4,Kd5,f3,Rc6,Rxa4,f5,Ra5+,Kd6,Ra4,g5,Ra5,g6,f4,g4,Ra4,Kd5,Ra5+,Kd6,Ra4,Kc7,Rb4,a5,Rb5,Ra6,Kxc4,a4,Rb2,a3,Ra2,Kd6,Kd4,Ra4+,Kd3,Kd5,Kd2,Ke4,Ke2,Ra5,Kd2,Kd5,Kd3,Ra4,Kd2,Kc4,Kc2,Kb4,Kc1,Ra5,Kc2,Rc5+,Kd2,Kb3,Ra1,Rc2+,Kd1,Kb2,Ra2+,Kxa2,Kxc2,Ka1,Kc1,a2', 'Kc2,e5,fxe5,g5,e6', 'https://lichess.org/training/DNY0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dNylP', 'Blitz', 'alyaspogi', 2002, 'mayconchess', 2137, 'e4,d6,d4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,Qd2,e5,d5,Nbd7,Bh6,a5,Bxg7,Kxg7,h4,h5,a4,Nc5,f3,Bd7,Nh3,Rh8,Nf2,Qe7,O-O-O,Rh7,b3,Rah8,Qg5,Ng8,Qe3,Nf6,Kb2,b6,Rdg1,Qd8,Nd3,Nxd3+,Qxd3,Qe7,Qa6,Be8,Nb5,Bxb5,Qxb5,Qd7,Qd3,Ne8,Qc3,Qe7,Bb5,Nf6,Rd1,Rd8,Rd3,Nd7,Qxc7,Rhh8,Qxb6,Nc5,Rdd1,Rb8,Qxa5,Rhc8,g4,Qb7,gxh5,Ra8,Qb4,gxh5,Rhg1+,Kf6,Qd2,Nxa4+,Bxa4,Ke7,Qg5+,Kf8,Qg7+,Ke7,Qg5+,Kf8,Ka3,Rxa4+,bxa4', 'Rc3+,Ka2,Rxc2+,Ka1,Qb2#', 'https://lichess.org/training/dNylP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DO0a2', 'Rapid', 'santoso69', 1760, 'elnazer', 1681, 'e4,e5,Nf3,d6,d3,Nf6,h3,h6,Nh2,Be7,Be2,Nc6,O-O,a5,c4,Nd4,Nc3,Nxe2+,Qxe2,c5,f4,exf4,Bxf4,Be6,Qe3,Rb8,Rf2,Qb6,Nb5,O-O,a4,Qd8,Raf1,Nh5,Bxh6,gxh6,Qxh6,Ng7,Ng4,Bxg4,hxg4,Bg5,Qh2,Be3,Nxd6,Bxf2+,Rxf2,Qg5,Nf5,Rbd8', 'Nh6+,Qxh6,Qxh6', 'https://lichess.org/training/DO0a2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dO1mU', 'Rapid', 'Nitecore', 1720, 'SagmaO', 1709, 'd4,Nf6,Nf3,g6,Bf4,d5,e3,Bg7,Bd3,O-O,h3,Nbd7,O-O,c5,dxc5,Nxc5,Be2,b6,a3,Bb7,Nbd2,Nfe4,c3,e6,Nxe4,Nxe4,Rb1,Nd6,Bh2,Ne4,Nd4,Qc8,f3,Nc5,b4,Nd7,Rc1,Ne5,Bxe5,Bxe5,f4,Bg7,Nb5,Qd7,Nd4,Rac8,c4,dxc4,Bxc4,Bd5,Bxd5,Qxd5,Rxc8,Rxc8,Kf2,Rc3,Qa1,Qc4,Kg1,Bxd4,exd4,Qxd4+,Rf2,Qc4,Kh2,Qd3', 'Rf3,Qxf3,gxf3', 'https://lichess.org/training/dO1mU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DO1Ys', 'Rapid', 'Adiga11', 1709, 'Pradeep_231001', 1717, 'd4,Nf6,Nf3,d5,Bf4,c6,h3,Nbd7,Nbd2,e6,e3,Nh5,Bh2,g6,Be2,f6,c3,Nb6,b3,Bd6,O-O,Bxh2+,Nxh2,Qc7,Bxh5,gxh5,Qxh5+,Ke7,Ndf3,Bd7,Nh4,Be8,Qh6,Rd8,Ng4,Kd7,Nxf6+,Kc8,Ng4,Bg6,Ne5,Rdg8,Qf4,Qe7,Qh6,Nd7,Nxd7,Kxd7,Qf4,Rf8,Qe5,Qxh4,f3,Bf7,Qf4,Qh5,e4,Rhg8,Rf2,Qxh3,exd5,exd5,Re1,Be6', 'Qxf8,Rxf8,gxh3', 'https://lichess.org/training/DO1Ys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DO4Ko', 'Blitz', 'NairobiSoultanian', 1528, 'TomMariusNGX', 1551, 'e4,c5,c3,d6,d4,d5,e5,e6,f4,Nc6,Nf3,f6,Bd3,b6,Nbd2,Bb7,O-O,Nh6,exf6,Qxf6,Ne5,Bd6,Ndf3,O-O,Nxc6,Bxc6,Ne5,Qe7,Nxc6,Qc7,Ne5,Rae8,Qh5,Rf6,f5,Ref8,Bxh6,Rxh6,Qg5,Be7,Qg3,Bh4,Qg4,Qe7,fxe6,Rxf1+,Rxf1,Rf6,Rxf6,Qxf6,Nd7', 'Qf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/DO4Ko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Do5ag', 'Rapid', 'boy33333333', 1661, 'pk11111', 1613, 'd3,e5,Nf3,Nc6,Nc3,Nf6,a3,d5,b4,d4,Ne4,Nd5,Bb2,a5,b5,Nce7,Nxe5,f6,Nc4,Nf5,h3,Bd7,a4,Bb4+,Ned2,O-O,g4,Nh4,Bxd4,Nf4,c3,Re8,e3,Bxc3,Bxc3,Nfg2+,Bxg2,Nxg2+,Kf1,Nh4,Qb3,Be6,d4,Qd5,e4,Qd8,d5,Bf7,Re1,b6,f3,Qe7,Qc2,Bxd5,Nb3,Bxc4+,Kf2,Bxb3,Qxb3+,Kh8,e5,Qc5+,Kg3,fxe5,Kxh4,Qf2+,Kh5,g6+,Kg5,h6+,Kf6,Qxf3+,Kxg6,Rg8+,Kh5', 'Rg5+,Kh4,Qf2#', 'https://lichess.org/training/Do5ag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Do5iV', 'Rapid', 'hosamfawzy', 1746, 'JoniNur', 1779, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,h3,Bh5,d3,c6,a3,Nf6,Bd2,Qc7,d4,e6,Bd3,Nbd7,O-O,Bd6,Be2,a6,Qe1,O-O-O,Ng5,Bxe2,Qxe2,Rdf8,Qe3,h6,Nf3,g5,d5,Bf4,Qa7,g4,Bxf4,Qxf4,dxc6,bxc6,Qxa6+,Kd8,hxg4,Nxg4,Qxc6,Ke7,Rad1,Rd8,Rfe1,Nge5,Nxe5,Nxe5,Qc5+,Kf6,Re4', 'Rxd1+,Nxd1,Qxe4', 'https://lichess.org/training/Do5iV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Do6Dy', 'Rapid', 'Iwin10', 2174, 'cygnus-quantica', 2166, 'e4,c6,d4,d6,f3,Nf6,Be3,e6,Nc3,d5,e5,Nfd7,Nce2,c5,c3,Nc6,f4,g6,Nf3,h6,dxc5,Bxc5,Ned4,Nxd4,Nxd4,Qh4+,g3,Qe7,Bd3,a6,Qe2,Qd8,Rf1,Bxd4,Bxd4,b6,Kd2,Nc5,Rae1,Nxd3,Qxd3,Bb7,g4,Qh4,Qe2,Qd8,f5,gxf5,gxf5,Kd7,fxe6+,fxe6,Rf7+,Kc8,Qg4,Qg5+,Qxg5,hxg5,Re2,Bc6,Rg2,Rb8,Rg7,Rb7,R7xg5,Rbh7,Rg8+,Rxg8,Rxg8+,Kd7,Rg2,b5,b4,Kc7,Ke3,Be8,Kf4,Rf7+,Kg5', 'Rg7+,Kf6,Rxg2', 'https://lichess.org/training/Do6Dy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('do6eO', 'Blitz', 'FM uhlmannfan', 2489, 'CM arvids_andrejevs', 2384, 'c4,e6,Nf3,Nf6,d4,d5,Nc3,Be7,Bg5,c6,e3,O-O,Rc1,Nbd7,a3,Re8,Bd3,Nf8,O-O,Ng6,Qe2,h6,Bxf6,Bxf6,e4,Nf4,Qe3,Nxd3,Qxd3,dxc4,Qxc4,e5,dxe5,Bxe5,Nxe5,Rxe5,Rcd1,Qe7,Qd4,Bg4,f3,Bh5,Rd2,Re8,Qxa7,f5,exf5,Rxf5,Re2,Re5,Rfe1,Qd6,Rxe5,Rxe5,Rxe5,Qxe5,Qf2,b5,Qd2,Bg6,Kf2,Kh7,g3,Qc5+,Qe3,Qc4,Ne2,Qc2,Qc3,Qd1,Qxc6,Bd3,Qe6,Qh1,Qh3,Qd1,Qe6,Qh1,Qe3,Qxh2+,Ke1,Qh1+,Kd2,Bg6,Nf4,Qh2+,Kc3,Qc2+,Kb4,Qxb2+,Ka5,Bc2,Ne6,Qf6,Nd4,Qd8+,Kb4,Qd6+,Kxb5,Qd5+,Kb4,Qd6+,Kc4,Qa6+,Kc3,Qxa3+,Kd2,Qxe3+,Kxe3,Bb1,f4,Kg6,g4,Ba2,f5+,Kg5,Kf3,Bd5+,Kg3,Kf6,Kf4,Ba2,Ne6', 'Bxe6,fxe6,Kxe6', 'https://lichess.org/training/do6eO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DO93n', 'Blitz', 'father-5', 1602, 'Lok999', 1704, 'e4,d6,f4,c6,Nf3,Nf6,Nc3,Nbd7,Bc4,d5,exd5,cxd5,Nxd5,Nxd5,Bxd5,e6,Bb3,Bd6,d4,O-O,O-O,b6,f5,Qc7,fxe6,fxe6,Bxe6+,Kh8,Ne5,Nxe5,dxe5,Be7,Rxf8+,Bxf8,Bxc8,Rxc8,Bf4,Bc5+,Kh1,h6,c3,Qf7,Bg3,a5,Qf3,Qc4,b3,Qe6,c4,Rf8,Qd5,Qf5,h3,Bf2,Bxf2,Qxf2,e6,Qb2,Rd1,Rf2,e7,Re2,Qd8+,Kh7,Rg1,Qe5,Qd3+,Kg8,Qd5+,Qxd5,cxd5,Rxe7,d6,Rd7,Rd1,Kf7,g4,Ke6,Kg2,Rxd6,Rxd6+,Kxd6,Kg3,Kc5,Kh4,Kd4', 'Kh5,Kc3,Kg6,Kb2,Kxg7,Kxa2,Kxh6,Kxb3,g5', 'https://lichess.org/training/DO93n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dO9yM', 'Rapid', 'Popolovu3000', 1608, 'Alfopent', 1647, 'e4,c5,Nf3,Nc6,Nc3,a6,d4,cxd4,Nxd4,e6,Be3,Bb4,Qd2,Nf6,f3,O-O,O-O-O,Re8,g4,d5,g5,Nd7,exd5,exd5,h4,Qa5,Kb1,Bxc3,Qxc3', 'Qxc3,bxc3,Rxe3', 'https://lichess.org/training/dO9yM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dObhy', 'Blitz', 'zhulikzhulik', 1628, 'ClassicalCrow', 1624, 'e4,c6,d4,d5,e5,c5,c4,cxd4,Qxd4,Nc6,Qxd5,Qxd5,cxd5,Nxe5,Bf4,Ng6,Bg3,Nf6,Bc4,Bf5,Nc3,O-O-O,Nf3,Ne4,Nxe4,Bxe4,O-O-O,Bxf3,gxf3,h5,Rhe1,h4,Be5,f6,Bc3,Nf4,Re4,g5,d6,exd6,Kb1,Bg7,Rc1,d5,Re7,dxc4,Rxg7,Rhf8,Bb4,Rfe8,Rxc4+,Kb8,Rcc7,Nd5,Rxb7+,Kc8,Ba5,Re2,Rxa7', 'Nc3+,Ka1,Rd1#', 'https://lichess.org/training/dObhy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('doCGe', 'Rapid', 'twalatka', 1860, 'yikilmaz', 1814, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Ne5,Bb3,Bc5,O-O,d6,h3,Nf6,Re1,O-O,Be3,Bxd4,Bxd4,c5,Be3,Nxe4,Bxh6,Nxf2,Qe2,Nxh3+,gxh3,Bxh3,Qe3,Qh4,Bf4,Nf3+,Qxf3,Qxe1+,Kh2,Qf1,Qxf1,Bxf1,Bxd6,Rfc8,Nd2,Bb5,a4,Rc6,axb5,Rxd6,Ne4,Rh6+,Kg3,Rc8,Rxa7,c4,Ba2,Rb6,Ra5,Re6,Nd2,b6,Ra4,Rg6+,Kf4,c3,bxc3,Rxc3,Ra8+,Kh7,Bxf7', 'Rf6+,Kg4,Rxf7,Ne4,Rc4', 'https://lichess.org/training/doCGe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOdRX', 'Classical', 'almoza58', 2001, 'Arsam8896', 1859, 'd4,d5,Nc3,Nf6,Nf3,Nc6,Bg5,Bf5,Ne5,Nxe5,dxe5,Ne4,Nxe4,dxe4,e3,f6,exf6,exf6,Bf4,c6,Bc4,Qd7,Qh5+,g6,Qh4,g5,Bxg5,fxg5,Qxg5,Be6,Qe5,Kf7,Qxh8', 'Bb4+,c3,Rxh8', 'https://lichess.org/training/dOdRX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DOeyD', 'Blitz', 'HOVSEPYAN-PROMOTIONS', 1808, 'JONTXU', 1785, 'd4,f5,c4,h6,Nc3,e6,h3,c6,Bf4,Nf6,Nf3,d5,c5,Be7,e3,O-O,Bh2,b6,b4,Nbd7,Bd3,Ne4,Bxe4,fxe4,Ne5,Nxe5,Bxe5,Bh4,O-O,Qg5,Bf4,Qg6,Qe2,e5,Bg3,Bxg3,fxg3,Qxg3,Rxf8+,Kxf8,Rf1+,Kg8,Kh1,exd4,exd4,Qxc3,Qh5,Be6,Qg6,Bxh3,gxh3,Qxh3+,Kg1,Qe3+,Kh1,Qxd4,Qf7+,Kh7,Qf5+,Kh8,Rg1,Rg8,Qf4,bxc5,Rg6,Qa1+,Kh2,Qxa2+,Kh3,Qb3+,Kh4,Qf3', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/DOeyD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dogpb', 'Rapid', 'Ambrose81', 1645, 'secret_user25', 1649, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,g6,Bc4,Bg7,O-O,O-O,b4,Nc6,b5,Nxd4,Qxd4,Ng4,Qd2,Ne5,Bb3,Re8,Bb2,e6,f4,Nd7,Qxd6,b6,Rad1,Ra7,e5,Re7,Ne4,Rc7,c4,Bb7,Ng5,Bf8,Qd3,Qc8,Qh3,h6,Nf3,Nc5,Bc2,Red7,Qg3,Kg7,Nh4,Rxd1,Rxd1,Rd7,Rf1,Rd2,Nxg6', 'Rxg2+,Qxg2,Bxg2', 'https://lichess.org/training/dogpb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dogrt', 'Rapid', 'shrex', 1684, 'dany14101', 1707, 'd4,e6,c4,Be7,Nc3,Nf6,Nf3,b6,e4,d6,Bf4,Nbd7,e5,Nh5,Be3,dxe5,Nxe5,Nxe5,dxe5,O-O,Be2,f6,Bxh5,fxe5,O-O,g6,Bh6,Rf5,Bg4,Rf4,Bxf4,Bb7,Bxe5,Bd6,Qe2,Qg5,Bxd6,cxd6,Ne4,Qe5,Bf3,Rf8,Rad1,d5,cxd5,exd5,Qd3,dxe4,Bxe4,Bxe4,Qc4+,Kh8,Rfe1,Qf5,Qd4+,Kg8,Rxe4,h5,Rh4,Qc2,Rf1,b5,Qd5+,Kg7,Qxb5,Rd8,Qb7+,Kh6,Qxa7,Rd1,Qe3+,Kg7,Qe5+,Kh6,Qf4+,Kg7,b4', 'Rxf1+,Kxf1,Qd1#', 'https://lichess.org/training/Dogrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DohcQ', 'Rapid', 'magamboamiri', 1719, 'Sany2009', 1740, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,Bf5,Bg5,exf3,Qxf3,Bxc2,Qxb7,Nbd7,Nb5,Rb8', 'Nxc7+,Qxc7,Qxc7', 'https://lichess.org/training/DohcQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOije', 'Rapid', 'sergiokumic', 1673, 'savateur', 1768, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Qg6,Nd2,Nf6,f3,O-O,Kf2,d5,Bd3,Ne5,Bc2,Bd7,exd5,Nxd5,Bxg6,fxg6,Ne4,Ng4+,Ke2,Ngxe3,Qd3,Bxd4,cxd4,a6,g3', 'Bb5,Qxb5,axb5', 'https://lichess.org/training/dOije');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dojG7', 'Rapid', 'Maxik1977', 1932, 'jcb1', 1829, 'e4,d5,exd5,Nf6,d4,c6,dxc6,Nxc6,c3,e5,dxe5,Qxd1+,Kxd1,Nxe5,f3,Bc5,Bf4,Ng6,Bg3,O-O,Kc2,Bf5+,Bd3,Bxd3+,Kxd3,Rad8+,Kc2,Rfe8,Nd2,Bxg1,Rhxg1,Re2,Rad1,Nd5,Kd3,Ndf4+,Kc2,Nxg2,Kc1,Ne3,Rde1', 'Rdxd2,Rxe2,Rxe2', 'https://lichess.org/training/dojG7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DOJjY', 'Rapid', 'SuperFighter2014', 1885, 'DinodAbeyrathne', 1904, 'f4,d5,Nf3,Bf5,c4,e6,e3,Nf6,Nc3,c6,cxd5,exd5,Nd4,Bg4,Be2,Bxe2,Qxe2,Bc5,O-O,O-O,Nf3,Nbd7,d4,Bb6,Ne5,Re8,Bd2,Ba5,g4,Bxc3,Bxc3,Nxe5,fxe5,Ne4,Rf4,f6,Raf1,fxe5,dxe5,Nxc3,bxc3,Qc7,c4,Rxe5,Qf3,Qe7,Rf7,Qe8,cxd5,Rxe3,Qf2,cxd5,Qb2,Re5', 'Rf8+,Qxf8,Rxf8+,Rxf8,Qxe5', 'https://lichess.org/training/DOJjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DoJoC', 'Rapid', 'rodrigo1957', 1724, 'imm_eg', 1692, 'e4,d6,Nf3,c5,c3,g6,d4,Nd7,h3,Bg7,Na3,b6,e5,dxe5,dxe5,Bb7,Bb5,Nh6,O-O,e6,Bxd7+,Qxd7,Qxd7+,Kxd7,Re1,Ke7,Bg5+,f6', 'exf6+,Bxf6,Bxh6,Bxf3,gxf3', 'https://lichess.org/training/DoJoC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOjsE', 'Blitz', 'enver-lovac964', 2337, 'LM OhNoMyPants', 2395, 'e4,c5,Nf3,e6,b3,b6,Bb2,Bb7,e5,a6,Nc3,d5,exd6,Nf6,Bd3,Bxd6,O-O,Nc6,Ne4,Nb4,Nxd6+,Qxd6,Be2,Nbd5,Ne5,Nf4,Bf3,Bd5,Bxd5,Qxd5,Qf3,Qxf3,Nxf3,O-O-O,Rfe1,h6,a4,a5,Rad1,Rd5,g3,Ng6,d3,Rhd8,Bxf6,gxf6,Nd2,Ne5,Kg2,h5,Ne4,Nd7,Nc3,Rg5,f4,Rg7,Nb5,h4,Re3,hxg3,hxg3,Rdg8,Rh1,f5,Nd6+,Kc7,Nc4,Nf6,Ne5,Nd5,Rf3,f6,Nc4,Rg4,Kf2,Nb4,Rh7+,Kc6,Re3,Nxc2', 'Rxe6+,Kd5,Rd6#', 'https://lichess.org/training/dOjsE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DOlhq', 'Blitz', 'akomath', 1715, 'lucius2010', 1750, 'e4,g6,Nf3,Bg7,d4,d6,Bd3,Nf6,Be3,O-O,Nbd2,Nbd7,c3,Ng4,Bf4,e5,dxe5,Ndxe5,Nxe5,Nxe5,Be2,Qf6,Bg3,b6,O-O,a5,f4,Nd7,Qc2,Bb7,Rae1,Nc5,Bf3,Ba6,Rf2,Nd3,Rfe2,Nxe1,Rxe1,Qe6,b3,Rae8,c4,Qd7,Nf1,Bb7,Ne3,Bd4,Bf2,Bg7,Nd5,Bxd5,cxd5,Qc8,Qc6,f5,h3,fxe4,Bg4,Qd8,Be6+,Kh8,Rxe4,Rf6,g4,Ref8,Bh4,Rxf4,Bxd8,Rxe4,Bxc7,Re1+,Kg2,Bd4,Bxd6,Rf2+,Kg3', 'Rg1+,Kh4,Bf6+,g5,Bxg5#', 'https://lichess.org/training/DOlhq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOLvO', 'Classical', 'sirdigbychickencesar', 1809, 'KV467', 1729, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Qd4,Bxc6+,Nxc6,Qf3,O-O,c3,Qd6,Nd2,h6,Nge4,Nxe4,Nxe4,Qe7,Qg3,Bf5,Bxh6,g6,Bg5,Bxf2+,Qxf2,Qe6,Nf6+,Kg7,O-O-O,Qxa2,Kc2,Qa4+,Kc1,Qa1+,Kc2,Qa4+,Kb1,Rab8,h4,Qb3,h5,Be6,h6+,Kh8,Nd5,Bxd5', 'Qf6+,Kh7,Qg7#', 'https://lichess.org/training/dOLvO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('doMbb', 'Rapid', 'tnull', 1609, 'SantiagoCastellanos', 1602, 'e4,e6,d4,Bb4+,Bd2,Bxd2+,Nxd2,d6,Ngf3,a6,Bd3,Nf6,O-O,Nbd7,e5,dxe5,dxe5,Nh5,Re1,g6,h4,Nf4,Re3,Nxd3,Rxd3,O-O,Ng5,b6,g3,h6,Nh3,Kg7,Ne4,Qe7,Kg2,Bb7', 'Rxd7,Bxe4+,f3,Bxf3+,Kxf3', 'https://lichess.org/training/doMbb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOmMD', 'Blitz', 'Mostafa_Sherif1986', 2146, 'CM khaledYousef22', 2343, 'e4,e6,d4,d5,Nd2,c5,c3,Nc6,Ngf3,Nf6,e5,Nd7,Be2,b6,O-O,Bb7,a3,Be7,b4,cxd4,cxd4,Rc8,Bb2,h6,Rc1,O-O,Nb3,f5,exf6,Bxf6,Re1,Re8,Bd3,e5,Nxe5,Ndxe5,dxe5,Nxe5,Bf5,Rxc1,Bxc1,Qe7,Nd4,Qd8,Be6+,Kh8,Qh5,Bc8,Rxe5,Bxe5,Nc6,Bxh2+,Kh1,Rxe6,Nxd8,Re1+,Kxh2,Rxc1,Qe8+,Kh7,Nf7,Bf5,Qh8+,Kg6,Ne5+,Kf6,Nf3', 'Rc8,Qxc8,Bxc8', 'https://lichess.org/training/dOmMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOob8', 'Blitz', 'monkeypweng2', 1505, 'architect-net', 1519, 'e4,e5,Nf3,d6,h3,Nc6,d4,exd4,Nxd4,Nge7,Nc3,g6,Bg5,Bg7,Nxc6,bxc6,Qd2,O-O,f4,Qe8,Bd3,Nf5,O-O,Ng3,Rf3,Nh5,g4,Nf6,Rg3,h6,Bxf6,Bxf6,g5,hxg5,fxg5,Be5,Rf3,Kg7,h4,Rh8,Qe1,Qe6,Qf2,Qg4+,Kf1,Rxh4', 'Rxf7+,Kh8,Rf8+,Kh7,Qf7+,Bg7,Qg8#', 'https://lichess.org/training/dOob8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('doOdu', 'Blitz', 'JCSALGUERO', 1730, 'afat123', 1706, 'e4,e6,d4,d5,exd5,exd5,Bd3,h6,Ne2,Nf6,Bf4,Be7,c3,O-O,O-O,Be6,Nd2,c5,Bg3,Nc6,Bb5,cxd4,Nxd4,Nxd4,cxd4,Qb6,Be2,Qxd4,Nf3,Qb6,Ne5,Bd6,b3,Bxe5,Bxe5,Nd7,Bd4,Qd8,Rc1,Nb6,Bxb6,axb6,Bf3,Rxa2,Qd3,Ra5,b4,Ra4,Qb3,Ra6,Rfd1,Qa8,Bxd5,Bxd5,Qxd5,Re8,Qd7,Ra2,Rc7,Ra1', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/doOdu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DoqP9', 'Rapid', 'GORVLAD-61', 2026, 'Vatnos', 2127, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Nc6,Be2,Bg4,O-O,O-O-O,d3,e5,Be3,f5,Bg5,Re8,h3,Bh5,Nh2,Bxe2,Qxe2,Nd4,Qd1,h6,Be3,Ne6,Bd2,g5,Bc3,Rg8,Qf3,Qd6,Qxf5,Bg7,Rae1,Rgf8,Qe4,Nf4,Ng4,h5,Bxe5,Bxe5,Nxe5,g4,hxg4,hxg4,d4,Qb4,c3,Qxb2,g3,Nh3+,Kg2,Rxf2+,Rxf2,Qxf2+,Kh1,Qxg3', 'Qf5+,Kb8,Nd7+,Ka8,Rxe8#', 'https://lichess.org/training/DoqP9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOrIR', 'Rapid', 'Taskents', 1683, 'GreyRoof', 1683, 'e4,e5,Bc4,Bc5,Nc3,Nf6,Nf3,d6,d3,Bg4,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,h3,Bxf3,Qxf3,c6,Nb6,Qxb6,Qxf7+,Kd8,Qxg7,Bxf2+,Kd1,Qxb2,Qxh8+,Kc7,Qg7+,Kb6,Rc1', 'Be3,Ke2,Bxc1', 'https://lichess.org/training/dOrIR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DORq0', 'Rapid', 'billybibbit', 1916, 'masud', 1892, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,Bc5,Be3,Bb6,Nbd2,O-O,d4,exd4,cxd4,d5,exd5,Nxd5,O-O,Bg4,h3,Bh5,Qc1,a6,a3,Qd6,Ne5,Nxe5,dxe5,Qxe5,Bxb6,cxb6,Re1,Qg5,Ne4,Qxc1,Raxc1,Ne7,Nd6,b5,Rxe7,bxc4,Rxb7,Rfd8,Nxc4,Rac8,Kf1,Rd2,g4,Rd4,b3,Bg6,Re1,Bd3+,Kg1,Bxc4,bxc4,Rdxc4,Ree7,Rf4,Kg2,Rc2,Rb3,Rcxf2+,Kg3,Rf6,Ra7,g5,Rxa6,Rxa6,Kxf2,Kg7,Kg3,Ra4,Rf3,f6,h4,Kg6,h5+,Kg7,Rd3,Ra7,Kf3,Re7,Re3,Rxe3+,Kxe3,Kf7,Kd4,Ke7,Kc5,Kd7,Kb6,Ke6,a4,f5,a5', 'fxg4,a6,g3,a7,g2,Kb5,g1=Q', 'https://lichess.org/training/DORq0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DoRsH', 'Rapid', 'MuratPolatozkan1', 1732, 'openbox', 1776, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,Nf3,Bg4,O-O,e6,Re1,Nc6,d4,Bd6,Qd3,Nb4,Qb5+,Qd7,Qxd7+,Kxd7,Nc3,Bf5,Re2,h6,Ne5+,Bxe5,dxe5,Ne4,Nxe4,Bxe4,Be3,Rhc8,Ba4+,Kd8,Rc1,Nd3', 'cxd3,Rxc1+,Bxc1', 'https://lichess.org/training/DoRsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('doRZ8', 'Rapid', 'nhftk', 1759, 'adam_gavriel', 1896, 'e4,d5,exd5,c6,dxc6,Nxc6,Nc3,Bf5,Nf3,Nb4,d3,h6,g3,Nf6,Bg2,e6,O-O,Bc5,Be3,Bxe3,fxe3,O-O,e4,Bg6,Ne5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/doRZ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DOs3H', 'Rapid', 'Jobert', 1879, 'ngulatte', 1852, 'd4,Nf6,c4,e5,e3,exd4,exd4,Bb4+,Bd2,Bxd2+,Nxd2,O-O,Be2,d5,c5,Bf5,Ngf3,Nc6,O-O,Re8,a3,a5,Nh4,Bd7,Nhf3,h6,Rc1,Bf5,Re1,Ne4,Nf1,Qf6,Ne3,Bh7,Qb3,Qe6,Qxb7,Nxf2,Kxf2,Qxe3+,Kf1,Bd3,Bxd3,Qxd3+,Kf2,Nxd4,Qxd5,Re2+,Rxe2,Qxe2+,Kg3,Nxf3', 'Qxa8+,Kh7,Qxf3', 'https://lichess.org/training/DOs3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('doTMK', 'Rapid', 'Caique-Emmerich', 1694, 'mrshef', 1967, 'e4,e5,Nf3,d6,Bc4,h6,d3,Bg4,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,O-O,Be7,Nc3,Nc6,a3,Nd4,Bb3,O-O,Bd2,Nxb3,cxb3,c5,Rac1,Rfc8,a4,a6,Be3,Rab8,Rfd1,b5,axb5,axb5,Ra1,b4,Ne2,Ra8,Ng3,Kh7,Nf5,Bf8,Kh2,g6,Nh4,Be7,Nf3,g5,Nd2,Nh5,g3,Kg6,Kg2,f5,Rf1,f4,g4,Nf6,Bxf4,exf4,Nc4,Rcb8,Rfe1,Nd7,Nd2,Bf6,Nc4,Rxa1,Rxa1,Be5,Rb1,Nb6,Na5,Ra8,Nc6,Ra2,Kf3,Rxb2', 'Nxe5+,Kf6,Rxb2', 'https://lichess.org/training/doTMK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOUO1', 'Rapid', 'Melican', 1622, 'everkite', 1744, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Nc3,Nf6,Be2,e6,O-O,Bd6,h3,Bxf3,Bxf3,O-O,Re1,Nc6,Be3,Re8,a3,e5,Nxd5,Nxd5,Bxd5,exd4,Bxd4', 'Rxe1+,Qxe1,Nxd4', 'https://lichess.org/training/dOUO1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DOUOL', 'Blitz', 'Testgreaam', 2246, 'gmi_mek', 2150, 'e4,e6,d4,d5,Nc3,Bb4,a3,Bxc3+,bxc3,c5,Qg4,Nf6,Qxg7,Rg8,Qh6,Nxe4,Qxh7,Nf6,Qh4,cxd4,Bg5,Nbd7,Bd3,Qa5,Ne2,Rxg5,Qxg5,dxc3,O-O,Qc5,Kh1,b6,Qh6,Bb7,Qg7,O-O-O,Qxf7,e5,Bf5,Rf8,Qe6,d4,Ng3,Kc7,Rae1,Re8,Qb3,Qc6,f3,Nc5,Qc4,Nd5,Be4,Qd6,Nf5,Qd7,a4,Rf8,Ng3,Rh8,a5,Ne3,Rxe3,dxe3,axb6+,axb6,Bxb7,Kxb7,Ne4,Qd4,Qf7+,Kc6,Qf6+,Kb5,Qxh8,e2,Rg1', 'Qxg1+,Kxg1,e1=Q#', 'https://lichess.org/training/DOUOL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOUs2', 'Classical', 'circle_VIII', 1912, 'SMSAHANAA', 1768, 'c4,e5,Nc3,Nf6,Nf3,Nc6,g3,Bb4,Bg2,d6,O-O,O-O,a3,Bxc3,bxc3,Be6,d3,h6,Rb1,Qc8,e4,Bh3,Bxh3,Qxh3,Rxb7,d5,cxd5,Ne7,Nxe5,Ng6,Nxg6,Ng4,Qxg4,Qxg4,Ne5,Qc8,Rb2,Re8,f4,f6,Nc6,Qa6,Rd2,Qb6+,Kg2,Qc5,Bb2,f5,Re1,a5,c4,Ra6,e5,Rxc6,dxc6,Qxc6+,Kh3,Qf3,d4,Qb3,d5,Qxc4,Red1,Rd8,e6,Kf8,Rc1,Qe4,Rcd1,g5,Be5,c6,d6,Ke8,d7+,Ke7,Bc7,Qxe6,Bxa5,g4+,Kg2,Qe4+,Kf2,Qf3+,Kg1,Qe3+,Kf1,Qf3+,Kg1,Qe3+,Rf2,Rxd7,Re1,Rd1,Rxd1,Qxa3,Bd8+,Ke6,Re2+,Kf7,Rd7+,Kg6,Re6+,Kh5,Rdd6,Qc1+,Kf2,Qc2+,Ke1,Qc1+,Ke2,Qc2+,Ke3,Qc3+,Rd3', 'Qe1+,Kd4,Qxe6', 'https://lichess.org/training/dOUs2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('doUV7', 'Classical', 'parvizopulos', 1829, 'sasha_obera1', 1973, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Nb3,Bb6,Bg5,O-O,Nd5,Re8,Nxf6+,gxf6,Bh6,Rxe4+,Be2,Qe8,Qd3,Kh8,Nc1,Nb4,Qc3,Bd4,Qxb4', 'Bxf2+,Kxf2,Rxb4', 'https://lichess.org/training/doUV7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOvPS', 'Blitz', 'Konnov1412', 1634, 'Sizif', 1768, 'e4,c5,Nc3,Nc6,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Bd3,e5,O-O,Nf6,Bg5,h6,Bh4,O-O,f4,Qb6+,Kh1,Qxb2,Ne2,d6,fxe5,dxe5,Bxf6,Bxf6,Rxf6,Bg4,h3,Bxe2,Bxe2,Rad8,Qc1,Qd4,Qxh6,Qxa1+,Kh2,Qe1,Bh5,Qxe4,Bf3,Qxc2,h4,Qd2,Rxg6+,fxg6,Qxg6+,Kh8,Qh5+,Kg7,Qg4+,Kf6,Qh5,Qf4+,g3,Qd2+,Kh3,Ke7,Qxe5+,Kd7', 'Bg4+,Rf5,Bxf5#', 'https://lichess.org/training/dOvPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOWIv', 'Blitz', 'VictorBoulgakov', 1615, 'yournightmare001', 1612, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Nd4,O-O,Nxf3+,Rxf3,Nf6,Bxf7+,Kxf7,fxe5,dxe5,c3,Bg4,Rxf6+,Qxf6,Qxg4,h5,Qd7+,Qe7,Qd5+,Ke8,Qxb7,Rd8,d3,Qc5+,Kh1,h4,Bg5,Be7,Bxe7,Qxe7,Nd2,h3,Qc6+,Qd7,Qg6+,Kf8,gxh3,Qxd3,Qf5+,Kg8,Qe6+,Kh7,Rg1,Qxd2', 'Qg6+,Kg8,Qxg7#', 'https://lichess.org/training/dOWIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('doWls', 'Rapid', 'UselessP1ayer', 2257, 'LVG29', 2211, 'e4,c5,Nf3,Nc6,Nc3,d6,d4,cxd4,Nxd4,Nf6,Bg5,e6,f4,Be7,Qd2,O-O,Be2,h6,Bxf6,Bxf6,Nxc6,bxc6,O-O-O,Bxc3,Qxc3,Qc7,g4,a5,g5,hxg5,fxg5,Ba6,Bd3,Bxd3,Rxd3,Ra6,h4,Rb8,h5,Rab6,h6,e5,hxg7,Kxg7,Rdh3,Rg8,Qf3,Qe7,g6,Qg5+,Kb1,f6,Rg3,Qf4,Rh7+,Kf8,Rf7+,Ke8,Rxf6,Qxf3,Rfxf3,Ke7,c3,d5,exd5,cxd5,g7,Rf6,Re3,e4,Rg5,Kd6,Kc2,Rf2+,Kb3,Rb8+,Ka3,Rbxb2,Rxd5+,Kc6,g8=Q', 'Rxa2+,Kb3,Rfb2+,Kc4,Ra4#', 'https://lichess.org/training/doWls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DOwW7', 'Rapid', 'brellemont', 1881, 'rezavahid', 1841, 'e4,Nf6,Nc3,e6,d4,d5,exd5,exd5,Nf3,Bb4,Bd2,O-O,Bd3,Re8+,Be3,Ne4,O-O,Nxc3,bxc3,Bxc3,Rb1,Nc6,Ng5,h6,Bh7+,Kf8,Nf3,Bg4,Qd3,Bxf3,Qxc3,Be4,Qc5+,Re7,Bxe4,dxe4,Rxb7,Qd6,Qxd6,cxd6,Rfb1,d5,h3,f5,g3,Rc8,c3,Kf7,Bd2,Rcc7,R7b5,Red7,Rc5,Ke6,Bf4,Rc8,Rbb5,g5,Bd2,Rcc7,Kf1,Ne7,Rxc7,Rxc7,Ke2,Nc8,Ra5,Nb6,Be1,Nc4,Ra6+,Nd6,Bd2,Kd7,f3,Rb7,Bc1,Nf7,Rf6,Ke7,Rxf5,Ke6,g4,Rb1,Kd2', 'e3+,Kc2,e2', 'https://lichess.org/training/DOwW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('doyFT', 'Rapid', 'Thoughtful_Hooshang', 1793, 'FAA123', 1807, 'd4,Nf6,c4,d5,c5,Nbd7,Nf3,e6,Bg5,c6,e3,Be7,Bd3,Qa5+,Nc3,h6,Bh4,g5,Bg3,Ne4,Bxe4,dxe4,Ne5,Nxe5,Bxe5,O-O,O-O,f5,f4,exf3,Qxf3,Bd7,Qh3,Kh7,Ne2,b6,cxb6,axb6,Ng3', 'g4,Qh5,Be8', 'https://lichess.org/training/doyFT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DOzb6', 'Blitz', 'hezarfen', 1532, 'Star49', 1545, 'e3,e5,Be2,Bc5,d3,Qf6,b3,d6,Bb2,Ne7,Nd2,d5,Ngf3,Bd6,O-O,Bg4,Rb1,Bxf3,Nxf3,O-O,c4,dxc4,dxc4,Ng6,a3,Rd8,Qc2,Nc6,b4,Nh4,c5,Be7,Nxh4,Qxh4,Bf3,Bf6,Bxc6,bxc6,Qe2,a6,Qf3,a5,Qxc6,axb4,Rbd1,bxa3,Rxd8+,Rxd8,Bxa3,Qc4,Qxc7,h6,c6,Qb3,Be7,Rd1,Bxf6', 'Rxf1+,Kxf1,Qd1#', 'https://lichess.org/training/DOzb6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dOzw7', 'Blitz', 'FM qaswara1977', 2490, 'YourMothre', 2230, 'b3,d5,Bb2,Nf6,h3,b6,g4,Bb7,Bg2,Nbd7,Nf3,h6,d3,e6,Nbd2,Bd6,e4,dxe4,Nh4,g5,dxe4,gxh4,Qe2,Be5,c3,c5,O-O-O,Qc7,Kc2,a5,Nc4,Bf4,a4,Ba6,e5,Nd5,Bxd5,exd5,Rxd5,O-O-O', 'Nd6+,Kb8,Qxa6', 'https://lichess.org/training/dOzw7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dp0cD', 'Rapid', 'SoBadSoSad', 1976, 'beyrk', 1946, 'd4,d6,c4,e6,Nc3,a6,Nf3,b6,e4,Nd7,Bf4,Be7,Bd3,c5,d5,e5,Bg3,Ngf6,O-O,Nh5,Ne2,Nxg3,Nxg3,O-O,Qd2,Nf6,a4,Bg4,Nh4,h5,Nhf5,Bxf5,Nxf5,g6,Qg5,Nh7,Nxe7+,Kh8,Nxg6+,fxg6,Qxg6,Rg8,Qxh5,Qe7,Rfe1,Rg5,Qh3,Rag8,Bf1,Qf6,Re3,Kg7,Rf3,Qg6,Qd7+,Kh6,Rh3+,Rh5,Rxh5+,Qxh5,Re1,Ng5,Qxd6+,Rg6,Qf8+,Rg7,Qf5', 'Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/Dp0cD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dp1cW', 'Classical', 'xtianjr', 1838, 'EricCheng-131', 1859, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,O-O,Bd7,Bxc6,Bxc6,Nxd4,Qd7,Be3,Bc5,Nf3,Bxe3,fxe3,O-O,Nbd2,Nxd2,Qxd2,h6,Rad1,Rfe8,c4,Rad8,cxd5,Qxd5,Qxd5,Rxd5,Rd4,Red8,Rfd1,Kf8,Kf2,Ke7,a3,Ke6,b4,g5,h3,Rg8,g4,Rd7,Rxd7,Bxd7,Rc1,Rc8,e4,b6,Ke3,c5,bxc5,Rxc5,Rxc5,bxc5,Kd3,Bc6,Ke3,c4,Nd4+,Kd7,Nxc6', 'Kxc6,e6,fxe6,Kd4,Kb5', 'https://lichess.org/training/Dp1cW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dp5jq', 'Rapid', 'Horse9k1', 1884, 'Tukentokio', 1677, 'd4,d5,g3,Nf6,Nf3,c6,Bg2,Nbd7,O-O,e6,Nbd2,Bd6,c4,O-O,Qc2,e5,cxd5,cxd5,dxe5,Nxe5,Nd4,Be6,e4,dxe4,Nxe6,fxe6,Bxe4,Nxe4,Nxe4,Rc8,Qb3,Qd7,Bf4,Bb8,Rfd1,Qe7,Qb5,Ng4,Rd7,Qe8,Bd6,Bxd6', 'Nxd6,Qg6,Nxc8', 'https://lichess.org/training/dp5jq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dP7FR', 'Rapid', 'Ignasi2014', 1877, 'Chino195', 1802, 'e4,d5,e5,d4,f4,h6,d3,Bf5,c3,dxc3,bxc3,e6,Nf3,Bg4,d4,Bxf3,Qxf3,c6,Bd3,Be7,Ba3,Bxa3,Nxa3,Qa5,Nc2,Qxc3+,Kf2,Ne7,Rab1,b5,Rb3,Qa5,Bxb5,a6,Be2,O-O,Rhb1,Qxa2,R3b2,Qa4,g4,Nd5', 'Ra1,Qxa1,Nxa1', 'https://lichess.org/training/dP7FR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dp7T7', 'Classical', 'Smithy123', 1667, 'Rohit_Behani', 1723, 'e4,e6,Nf3,d5,Bd3,Nf6,exd5,exd5,Nc3,c6,O-O,Be7,Qe2,O-O,Nd4,Re8,Bf5,Bxf5,Nxf5,Bb4,Qf3,Nbd7,a3,Ne5,Qg3,Nh5,Qh3,Bxc3,dxc3,Nf6,Bf4,Ng6,Bg5,Qb6,Nd6,Re6,Nf5,Qxb2,Qd3,Qb5,Qg3,Ne4,Qe3,Nxg5,Qxg5,Rf6,Rab1,Qa4,Nh6+,Kf8,Ng4,Rf4,h3,Rb8,g3,Rf3,Ne5,Nxe5,Qxe5,Re8,Qd6+,Kg8,Rfe1,Rf8,Rxb7,Qxc2', 'Qxf8+,Kxf8,Rb8#', 'https://lichess.org/training/Dp7T7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dp83F', 'Rapid', 'Dil0ck', 1789, 'GetzImre', 1781, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,e5,Ng4,exd6,Qxd6,h3,Nf6,Nc3,a6,d3,g6,Re1,Bg7,Ne4,Nxe4,Rxe4,O-O,Bf4,Qd7,c3,Nc6,Qd2,Rad8,d4,cxd4,Nxd4,Nxd4,cxd4,Bxd4,Rd1,Bxf2+', 'Kxf2,Qf5,Qxd8,Rxd8,Rxd8+', 'https://lichess.org/training/Dp83F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DP8fv', 'Classical', 'samelliott1205', 1744, 'alp52', 1637, 'd4,e6,Nf3,d6,Bf4,Bd7,e3,h6,h3,Na6,Bd3,Nb4,O-O,Nd5,Bh2,Ngf6,c4,Ne7,Nbd2,d5,c5,Nc6,a3,Be7,b4,Nb8,Ne5,O-O,Nxd7,Nbxd7,Qf3,Ne4,Nxe4,dxe4,Bxe4,Nf6,Bxb7,Rb8,a4,Nh7,a5,f5,a6,Ng5,Qh5,Rf6,Rfb1,Qf8,b5,Nh7,Bxc7,g6,Qf3,Ng5,Qf4,Nxh3+,gxh3,g5,Qe5,Rg6,Bxb8,Bf6,Qxe6+,Kh7,Bd6,Qg7,c6,g4,Kh2,gxh3,Qxf5,Bxd4,exd4,Qxd4,Qf7+,Rg7,Qf5+,Rg6,c7,Qxd6+,Kxh3,Qxc7,Rc1,Qe7,Be4,Qg7,Rc7,Qxc7,Qxg6+,Kh8,Qxh6+,Kg8,Bc6,Qc8+,Kg2,Qf5,Rd1,Qg4+,Kf1,Qxd1+,Kg2,Qg4+,Kf1,Qc4+,Ke1,Qc3+,Kd1,Qb3+,Kd2,Qb2+,Ke3', 'Qc1+,Ke2,Qxh6', 'https://lichess.org/training/DP8fv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dPa3E', 'Blitz', 'extermo44', 2434, 'IoannesRCV', 2358, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be3,Be7,f4,Nc6,Nb3,O-O,Qf3,a6,O-O-O,Qc7,g4,b5,g5,Nd7,h4,Bb7,h5,b4,Ne2,a5,g6,h6,Kb1,a4,Nbd4,Nxd4,Nxd4,Nc5,Bd3,b3,a3,Nxd3,cxd3,Bf6,Rc1,Qd7,Rhg1,Bxd4,Bxd4,e5,fxe5,dxe5,Bxe5,fxg6,Qg3,Rac8,Qxg6,Qxd3+,Ka1,Rxc1+,Rxc1,Rf7,Qe6,Qxe4,Rf1,Bd5,Qe8+,Kh7,Rd1,Qd3,Rc1,Rf1', 'Qg6+,Qxg6,hxg6+,Kxg6,Rxf1', 'https://lichess.org/training/dPa3E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dPayG', 'Rapid', 'Pavel_1967', 1877, 'SvinoGorl', 2122, 'e4,c6,d4,d5,exd5,cxd5,Bb5+,Nc6,Bxc6+,bxc6,Nf3,Ba6,Nc3,e6,Ne2,Bd6,O-O,Ne7,Re1,Rb8,b3,c5,Bf4', 'Bxe2,Qxe2,Bxf4', 'https://lichess.org/training/dPayG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DPBxu', 'Rapid', 'Aleksss', 1792, 'phantom355', 1992, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Bd3,Nf6,c3,O-O,Nd2,c6,h3,b5,N2f3,a6,O-O,c5,Nf5,Bxf5,exf5,Nc6,Re1,Re8,Bg5,h6,Bxf6,Bxf6,Rxe8+,Qxe8,Qe2,Qd7,Re1,Ne5,Nxe5,Bxe5,g4,Bf6,Be4,Re8,Bc6', 'Rxe2,Bxd7,Rxe1+', 'https://lichess.org/training/DPBxu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dPEaD', 'Rapid', 'AndyTirza', 1888, 'der_Hoon', 1795, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,O-O,d6,c3,Bg4,h3,Bh5,d4,exd4,cxd4,Bxf3,gxf3,Bxd4,Qxd4,b5,Qxg7,Qf6,Qxf6,Nxf6,Bb3,Rg8+,Kh2,Ne5,f4,Nf3+,Kh1,Nxe4,Nc3', 'Nxf2+,Rxf2,Rg1#', 'https://lichess.org/training/dPEaD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DPeFc', 'Rapid', 'thatsgoodtea', 1717, 'Fresno1017', 1742, 'd4,Nf6,g3,c6,Bg2,e6,Nc3,Be7,Nf3,h6,O-O,a6,a4,b6,e4,Qc7,Bf4,d6,e5,Nd5,Nxd5,cxd5,exd6,Bxd6,Bxd6,Qxd6,Ne5,Nd7,f4,Nf6,c3,Bb7,f5,O-O,Qc2,Ne4,Rae1,Rac8,c4,dxc4,Bxe4,Qxd4+,Qf2,Qxf2+,Rxf2,Bxe4,Rxe4,c3,bxc3,Rxc3,fxe6,Rc1+,Kg2,fxe6,Rxf8+,Kxf8,Nd7+,Ke7,Nxb6,Rc2+,Kh3,g5,Nc4,h5,Ne3,Ra2,Nf5+,Kf6,Nd4', 'g4+,Rxg4,hxg4+', 'https://lichess.org/training/DPeFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DpEKW', 'Rapid', 'artase', 1861, 'rinatik', 1636, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,g3,fxg3,O-O,gxh2+,Kh1,Bf6,d4,d6,Bxf7+,Kxf7,e5,dxe5,Nxe5+,Kf8,c3,Bh3,Qb3,Qe8,Rf3,Be6,Qxb7,Nc6,Qxc6,Qxc6,Nxc6,Bd5,Nd2,Bxf3+,Nxf3,Ne7,Nxe7,Bxe7,Bf4,Bd6,Ne5,Bxe5,Bxe5,Rb8,b4,Rg8,Kxh2,Ke7,a4,g5,Kg3,h5,Rh1,h4+,Kg4,Kd7,Rh3,Rb6,Rf3,Re6,Rf7+,Re7,Rxe7+,Kxe7,Bxc7,Rh8,Kh3,g4+,Kxg4,h3,Kf5,h2,Bxh2,Rxh2,Ke4,Rh3,c4,Rh4+,Kd5,Kd7,Kc5,Rh5+,d5,Kc7,b5,Rh6,a5,Kc8,b6,axb6+,axb6,Kd7,d6,Rxd6', 'b7,Rc6+,Kb5,Rxc4,b8=Q', 'https://lichess.org/training/DpEKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DPEVN', 'Rapid', 'zed_network', 1954, 'MadProfessor', 2318, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Nf3,e5,d5,a5,Ng5,h6,Nf3,Na6,Bd3,Nc5,Be3,b6,Qd2,Nh5,Bc2,Nf4,Bxf4,exf4,Qxf4,a4,Qd2,a3,b3,Qf6,e5,dxe5,Ne4,Nxe4,Bxe4,Qd6,Rd1,f5,Bb1,b5,O-O,bxc4,bxc4,Rb8,Qa5,Rb2,c5,Qd8,Qxa3,e4,Nd4,Rxb1,Nc6,Rxd1,Nxd8,Rxf1+,Kxf1,Rxd8,Qb3,Kf8,a4,Ba6+,Ke1,Ke7,a5,Bd4,d6+,cxd6,c6,Rc8,Qd5,Bc5,g4,Rb8,gxf5,gxf5,Qxf5,e3,fxe3,Bxe3,Qe4+,Kf8,Qxe3', 'Re8,Kd2,Rxe3', 'https://lichess.org/training/DPEVN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dpFHv', 'Classical', 'stxmatt', 1826, 'THRONALPHA', 1927, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,a6,e3,b5,cxb5,cxb5,Be2,Bb7,O-O,e6,a3,Be7,Re1,O-O,Bf1,Nbd7,Ne2,Ne4,Ng3,Nxg3,fxg3,b4,Bd3,a5,Rf1,Ba6,axb4,Bxb4,Bxa6,Rxa6,Qd3,Qb6,Ng5,g6,e4,f6,Nf3,f5,exd5,exd5,Bh6,Re8,Qb3,Nf6,Bg5,Qb5,Bxf6,Rxf6,Ne5', 'Rxe5,dxe5,Bc5+,Kh1,Qxb3', 'https://lichess.org/training/dpFHv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DPFnv', 'Rapid', 'ramses222', 2256, 'pinogalo', 2402, 'd4,Nf6,c4,g6,Nc3,d5,Bf4,Bg7,e3,O-O,Nf3,c6,Bd3,Bg4,O-O,e6,h3,Bxf3,Qxf3,Nbd7,Bg5,Qb6,Rab1,dxc4,Bxc4,Qa5,Bh4,Nd5,Bxd5,cxd5,b4,Qa6,a4,Rfc8,Rfc1,Rc4,a5,Rac8,Ne2,Qb5,Be7,Bf8,Bc5,b6,axb6,axb6,Bxf8,Nxf8,Rxc4,Rxc4,Ra1,Qxb4,Ra7,f5,Nf4,Qd6,Nd3,Rc7,Ra8,Kg7,Ne5,Nd7,Rd8,Nxe5,Rxd6,Nxf3+,gxf3,Re7,Rxb6,Kf6,f4,h6,h4,h5,Kg2,Rc7,Rb3,Rc2,Kg3,Rc7,Rb2,Rd7,Re2,Rc7,Rb2,Rd7,Rb3,Rc7,Kf3,Rd7,Ke2,Rc7,Kd2,Rd7,Rb1,Rc7,Kd3,Rd7,f3,Rc7,e4,dxe4+,fxe4,fxe4+,Kxe4,Rd7,Rb6,Rd8,Ra6,Rd7,Ra5,Rd8,d5,exd5+,Rxd5', 'Rxd5,Kxd5,Kf5', 'https://lichess.org/training/DPFnv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DpFSV', 'Classical', 'yellow_pit', 1807, 'ammarkalthuom', 1917, 'e4,e5,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Nf3,Nf6,Nxe5,Be6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nxe4,O-O-O+,Ke7,Re1,Nxc3,bxc3,Rd8,Bc4,Rd6,Re2,Kf8,Bxe6,Rxe6,Rhe1,Re7,f4,g6,g4,f6', 'Nxg6+,hxg6,Rxe7', 'https://lichess.org/training/DpFSV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dPGyw', 'Rapid', 'toto639', 2091, 'zla12345', 1921, 'd4,c5,e3,cxd4,exd4,Nc6,Bf4,Nf6,Nf3,h6,Bd3,Qa5+,c3,Nxd4,Nxd4,e5,Qe2,Bd6,Nb3,Qc7,Bg3,O-O,O-O,e4,Bc2,Bxg3,hxg3,d5,N1d2,Bg4,Qe3,Rfe8,Qc5,Qe5,Rfe1,b6,Qd4,Qh5,Nf1,Be6,Bd1,Qg6,Ne3,Rad8,Nd2,Nh7,a4,f5,a5,bxa5,Rxa5,Rf8,Ra6,f4,gxf4,Rxf4,Ndf1,Qf7,Re2,Ng5,Rxa7,Rd7,Rxd7,Qxd7,Qe5,Qf7,Rd2,Kh7,b4,Qg6,Qxf4', 'Nh3+,Kh2,Nxf4', 'https://lichess.org/training/dPGyw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dPiio', 'Rapid', 'ShyYak', 1915, 'destroyer8686', 1979, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Na3,cxd4,cxd4,Bxa3,bxa3,Qa5+,Qd2,Nge7,Be2,Qxd2+,Bxd2,Nf5,Bc3,O-O,O-O,a6,Rab1,f6,g4,Nh6,exf6,gxf6,g5,Nf5,Kh1,Kf7,gxf6,Rg8,Ne5+,Kxf6,Rg1,Rxg1+,Rxg1,Nfxd4', 'Nxc6,bxc6,Bxd4+', 'https://lichess.org/training/dPiio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dPin7', 'Blitz', 'idonothaveusername', 2110, 'FM rupeshjswl7', 2199, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,d3,Nge7,c3,Qc7,Re1,Nf5,Nbd2,h5,c4,dxc4,dxc4,O-O-O,Qa4,Kb8,Nb3,Be7,Be3,Nxe3,Rxe3,g5,Rae1,g4,Nfd2,Bg5,R3e2,Bxd2,Rxd2,Nxe5,Rde2,Nd3,Rd1,Nf4,Red2,Rxd2,Rxd2,Rd8,Rxd8+,Qxd8,Na5,Qd2,Qe8+,Kc7,Qxf7+,Kb6', 'Qxb7+,Kxa5,Qb5#', 'https://lichess.org/training/dPin7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dPJ3y', 'Rapid', 'nalivaiko', 2050, 'T-8004', 2044, 'e4,d5,exd5,Qxd5,c4,Qe4+,Ne2,Qxc4,d3,Qb4+,Nbc3,Nf6,a3,Qd6,Bf4,e5,Bg3,a6,d4,Nc6,dxe5,Nxe5,Bxe5,Qxe5,g3,Bc5,Bg2,O-O,O-O,c6,Qc2,Bf5,Qb3,Rab8,Rfe1,Be6,Qa4,Qc7,Nf4,Bf5,Rad1,Rfe8,b4,Ba7,Qb3,Rbd8,Rxe8+,Rxe8,a4,Qb6,Rf1,g5,Nfd5,cxd5,Bxd5,Be6,Bxe6,Rxe6,Nd5,Nxd5,Qxd5,h6,b5,Qd6,Qxb7,Qb6,Qc8+,Kg7,bxa6,Qxa6,Qc3+,Kg6,Qb3,Qb6,Qd3+,f5,g4,Rf6,Kg2,Qc6+,f3,Qxa4,Re1,Qa2+,Re2,Qf7,Rc2,h5,h3,hxg4,hxg4,Kh6,gxf5,Rxf5,Rc6+,Rf6,Qa6,Rxc6,Qxc6+,Qg6,Qd7,Qc2+,Kh3,Qg6,Qxa7,Qf5+,Kg3,Qf4+,Kg2,Qd2+,Qf2,Qf4,Qg3,Qd2+,Qf2,Qd5,Qe2,Qf5,Qe4,Qf6,Kg3,Qd6+,Kg4,Qd7+,Qf5,Qd4+,Kh3,Qh4+,Kg2,Qd4,Qf8+,Kg6,Qg8+,Kh5', 'Qh7#', 'https://lichess.org/training/dPJ3y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dpjB3', 'Classical', 'yas_jadry1338', 1740, 'pva_78', 1722, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,f6,c3,Ne5,Qe2,d6,O-O,Bg4,Bb3,Bxf3,gxf3,Ne7,d4,N5g6,Qc4,d5,exd5,Qd6,Nd2,f5,Re1,O-O-O,Re6,Qd7,Qc5,Nc6', 'dxc6,Bxc5,cxd7+', 'https://lichess.org/training/dpjB3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dPK8h', 'Rapid', 'atermonas', 1937, 'eliasi', 1919, 'e4,e6,d4,d5,e5,c5,Nf3,Qb6,Be2,Nc6,c3,Nge7,O-O,cxd4,cxd4,Nf5,Nc3,Nfxd4,Nxd4,Qxd4,Qxd4,Nxd4,Bb5+,Bd7,Bxd7+,Kxd7,Rd1,Nc6,Be3,Nxe5,Nxd5,exd5,Rxd5+,Ke6,Rad1,Be7,f4,Nc4', 'f5+,Kf6,Bd4+,Kg5,f6+,Kg6,fxe7', 'https://lichess.org/training/dPK8h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dpKsV', 'Classical', 'Lordananas', 1964, 'Stalingrad_1', 1751, 'Nf3,e6,g3,d5,Bg2,c5,d3,Nf6,Nbd2,Bd6,O-O,O-O,e4,d4', 'e5,Be7,exf6', 'https://lichess.org/training/dpKsV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dplca', 'Blitz', 'OP_Ashif', 1741, 'OWC14', 1681, 'd4,e6,c4,c5,dxc5,Bxc5,Nf3,b6,Nc3,Bb7,e3,Ne7,Bd3,Nbc6,Bd2,Qc7,O-O,O-O-O,Ne4,Bd6,Neg5,Rdf8,Nxh7,g6,Nhg5,Bxh2+,Kh1,Be5+,Nh3,Bxb2,Rb1,Be5,Qb3,Na5,Bxa5,bxa5,Nxe5,f6,Nxg6', 'Rxh3+,Kg1,Qh2#', 'https://lichess.org/training/Dplca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dplOB', 'Rapid', 'EaseNT', 1734, 'Kostyantyn72', 1734, 'e4,c5,Nf3,d6,Nc3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,e5,Nd5,Nxd5,cxd5,exd6,Qxd6,Bb5+,Bd7,Qd3', 'Qb4+,Bd2,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/dplOB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dPM6B', 'Classical', 'Vas2vas', 1655, 'pipitauno', 1726, 'e4,c5,c4,Nc6,Nf3,g6,Nc3,Bg7,d3,Nf6,Be2,O-O,O-O,a6,Be3,d6,h3,Rb8,d4,cxd4,Nxd4,Nxd4,Bxd4,b5,e5,dxe5,Bxe5,Rb6,Nd5,Nxd5,Bxg7,Kxg7,Qd4+,Nf6,Qc5,Qd6,Qe3,Be6', 'c5,Qb8,cxb6', 'https://lichess.org/training/dPM6B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DPq0c', 'Classical', 'SPARKKNIGHT', 1954, 'nettysek', 1927, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,f3,Be7,Qd2,h5,h4,Nfd7,O-O-O,Bxh4,f4,Bf6,e5,dxe5,fxe5,Bxe5,Bd3,Nc6,Nxe6,fxe6,Bg6+,Kf8,Rdf1+,Kg8,Bf7+,Kf8,Bxe6+,Ke7,Bb3,Nf6,Bc5+,Ke8,Qg5,Qc7,Qg6+,Kd8,Rd1+,Bd7,Qxg7,Ne8,Qg5+,Bf6,Qe3,Qe5,Bb6+,Kc8,Qd3,Bf5,Qd2,Bg4,Rhe1,Bg5', 'Rxe5,Bxd2+,Rxd2', 'https://lichess.org/training/DPq0c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DPRJp', 'Blitz', 'Shevalex', 1680, 'adeleed', 1630, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Nf6,Be3,Bb4,Qd2,Nxe4,Qd3,Bxc3+,bxc3,Nc5,Qd2,O-O,Nxc6,Ne4,Qd4,bxc6,Qxe4,d5,Qf3,Qa5,Bd4,c5,Be5,f6,Bd6,Rd8,Bg3,d4,Bd3,Qxc3+,Ke2,Bd7,Rab1,Ba4,Rb7,Bxc2,Bxh7+,Kxh7', 'Qh5+,Kg8,Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/DPRJp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DPteG', 'Classical', 'ehabdoc', 1737, 'Yellow_owl', 1766, 'g4,e5,Bg2,d5,c4,Ne7,Qb3,Nbc6,cxd5,Nxd5,Bxd5,Nd4,Bxf7+,Ke7,Qc4,Bxg4,f3,Bf5,Na3,b5,Nxb5,Nc2+,Kd1', 'Ne3+,Ke1,Nxc4', 'https://lichess.org/training/DPteG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dpuqz', 'Blitz', 'NM CarlosCarneiro', 2244, 'tizgran', 2215, 'd4,Nf6,c4,c5,d5,b5,a4,bxc4,Nc3,d6,e4,Nbd7,Bxc4,g6,f4,Bg7,Nf3,O-O,O-O,a5,Qe2,Ne8,Bb5,Nc7,Bc6,Rb8,e5,Rb6,Nb5,Nb8,Bd2,Nxc6,dxc6,Ba6,Bxa5,Rxc6,Rfd1,Qb8,Bxc7,Qxc7,exd6,exd6,Rac1,Qb8,f5,Rb6,fxg6,hxg6,Qe7,Bxb5,axb5,Rxb5,Rxd6,Rxb2,Rd7,Qf4,Qxc5,Bh6,Rf1,Qg4,Rf2,Rxf2,Kxf2,Re8,Re7,Rxe7,Qxe7,Bf8,Qe5,Qb4,h4,Bc5+,Kf1,Qb1+,Ke2,Qc2+,Nd2,Bb4,Qd5,Bf8,Kf3,Qd1+,Kg3,Bh6,Ne4,Qe1+,Kh3,Qh1+,Kg3,Qf1,Qd8+,Kg7,Qd4+,Kg8,Nf6+,Kf8,Qd8+,Kg7,Ne8+,Kh7,Nf6+,Kg7,Ne8+,Kg8,Qd4', 'Qe1+,Kh2,Qxe8', 'https://lichess.org/training/Dpuqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dPV6V', 'Blitz', 'FM Kiezking', 2441, 'carlomario10', 2270, 'e4,c5,Nc3,a6,Nf3,e6,d4,cxd4,Nxd4,Qc7,Be3,Ba3,Qc1,Qxc3+,bxc3,Bxc1,Rxc1,Nf6,Bd3,b5,e5,Nd5,Bd2,Bb7,c4,bxc4,Bxc4,Nb6,Bf1,Nc6,Nxc6,Bxc6,c4,f6,Bc3,fxe5,Bxe5,O-O,f3,d5,cxd5,Bxd5,Bd3,Rac8,O-O,Bxa2,Bxa6,Rxc1,Rxc1,Ra8,Bd3,Bd5,Rc7,Ra3,Rxg7+,Kf8,Bxh7,Nc4,Bf6,Ra2,Bg6,Ne3,Rh7', 'Rxg2+,Kh1,Rxg6', 'https://lichess.org/training/dPV6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dpVMx', 'Classical', 'ImilShay', 1684, 'Veni_Vidi_Vicii', 1714, 'e4,e5,Nf3,Qf6,Nc3,c6,Bc4,Bc5,d3,h6,Be3,Bb4,Qd2,b5,Bb3,a5,a3,Bd6,O-O-O,b4,Ne2,bxa3,bxa3,Bxa3+,Kb1,a4,Ba2,Qd6,Qc3,Qb4+,Qxb4,Bxb4,Nxe5,d6,Nxf7,Rh7,Bf4,Ke7,Nd4,g5,Nf5+', 'Bxf5,Bxd6+,Bxd6', 'https://lichess.org/training/dpVMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dpX0i', 'Rapid', 'edsoncezar', 2073, 'PrathamOne', 2056, 'e4,e6,d4,d5,exd5,exd5,Nc3,Be7,Nf3,Nf6,Bd3,O-O,O-O,Nc6,Bg5,Bg4,h3,Bh5,Be2,h6,Bxf6,Bxf6,Nb5,Bxf3,Bxf3,a6,Nc3,Nxd4,Nxd5,Nxf3+,Qxf3,Bxb2,Rab1,Bd4,Rxb7,Bb6,Nxb6,cxb6,Rd1,Qc8,Rdd7,Qc4,Rbc7,Qxa2,Qb7,b5,Rxf7,Rxf7,Qxa8+,Rf8,Qa7,Kh8,Rxg7', 'Qa1+,Kh2,Qxg7', 'https://lichess.org/training/dpX0i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dPXo7', 'Rapid', 'malilug28', 2081, 'Jona-1', 2037, 'd4,d5,e3,Nf6,Bd3,e6,Nf3,Nbd7,Ne5,b6,O-O,Bd6', 'Nc6,Bb7,Nxd8', 'https://lichess.org/training/dPXo7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dpxWI', 'Classical', 'gabriel3014', 1978, 'ukr_chess', 1870, 'd4,d5,c4,dxc4,e4,e6,Nc3,Bb4,Bxc4,Nf6,Qa4+,Nc6,Bg5,Bd7,e5,Nxd4,Qd1,h6,exf6,hxg5,fxg7,Rg8,Qxd4,c5,Qe5,f6,Qe3,Rxg7,O-O-O,Qe7,Nb5,Bxb5,Bxb5+,Kf8,Rd7,Qe8,Rxg7,Qxb5,Rc7,Qf1+,Kc2,Rd8,Nf3,Qxh1,Qxe6', 'Qd1#', 'https://lichess.org/training/dpxWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DPyX8', 'Rapid', 'mkmk', 1951, 'FetzidieLandmine', 1980, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Nf6,Bg5,Be7,Be2,O-O,O-O,a6,e5,Nxe5,h3,b5,a3,Bb7,Re1,Nc4,b3,Nb6,Bf3,Bxf3,Qxf3,Nfd5,Bxe7,Qxe7', 'Nxd5,Nxd5,Qxd5', 'https://lichess.org/training/DPyX8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DPZ20', 'Blitz', 'FM Radagast-the-Brown', 2220, 'rifqi_azfar99', 2227, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Nf3,Nc6,Be2,Bf5,O-O,e6,a3,Be7,Bf4,a6,Rc1,h6,Ne5,Rc8,Nxc6,Rxc6,Bd3,Bxd3,Qxd3,O-O,Be5,Bd6,Bxf6,Qxf6,Ne2,Rfc8,g3,Rc4,c3,b5,f4,h5,f5,Qg5,fxe6,fxe6,Nf4,Bxf4,Rxf4,h4,Re1,hxg3,hxg3,e5,Rxe5,Qh6,Rxd5,R4c6,Re5,Rg6,Qe3,Qh3,Re8+,Rxe8', 'Qxe8+,Kh7,Rh4+,Qxh4,Qxg6+,Kxg6,gxh4', 'https://lichess.org/training/DPZ20');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dq0wh', 'Rapid', 'BiyanSanjaya', 1932, 'BChichava', 1863, 'd4,Nf6,Nf3,b6,e3,Bb7,Be2,e6,O-O,Bb4,c3,Be7,Nbd2,O-O,c4,d6,b3,Nbd7,Bb2,Re8,Bd3,c5,dxc5,Nxc5,Bc2,Rc8,Ng5,h6,Bxf6,Bxf6,Bh7+,Kf8,Nxf7,Kxf7,Qh5+,Ke7,Rad1,Kd7,b4,Na6,Ne4,Be7,Rxd6+,Bxd6,Nxd6,Kxd6,Rd1+,Bd5,cxd5,Qf6,Bg6,Red8,e4,Qg5,e5+,Ke7,d6+,Kf8,Qf3+,Kg8,Qf7+,Kh8,d7,Rc1', 'Qe8+,Rxe8,dxe8=Q#', 'https://lichess.org/training/dq0wh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dQ1XK', 'Rapid', 'wert3', 1818, 'Coalcruzat', 1834, 'e4,c5,Nf3,d6,Nc3,e6,Bc4,Nc6,d4,cxd4,Nxd4,a6,O-O,Nf6,Bg5,Be7,Nxc6,bxc6,Qd2,h6,Bf4,e5,Bg3,Nh5,Rad1,Nxg3,hxg3,O-O,f4,Bg4,Be2,Bxe2,Qxe2,Qc7,Qc4,Rab8,b3,a5,Nd5', 'Qa7+,Kh2,cxd5', 'https://lichess.org/training/dQ1XK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dq4A5', 'Rapid', 'Sheirk', 1694, 'ethanarshadi', 1680, 'd4,d5,c4,c5,dxc5,Qa5+,Bd2,Qxc5,cxd5,Qxd5,Nc3,Qc6,Nf3,Nf6,e3,a6,Be2,Bg4,Ne5,Bxe2,Nxc6,Bxd1,Nxb8,Bg4,Nxa6,Rxa6,Nb5,Kd7,O-O,e6,f3,Bh5,Rfd1,Kc8,Rac1+,Kb8,Ba5,Be7,Bc7+,Ka8,Rd3,Bg6,Rd4,Nd5,e4,Nxc7,Nxc7+,Ka7,Nb5+,Kb6,a4,Bc5,Rxc5,Kxc5', 'b4+,Kc6,Rd6#', 'https://lichess.org/training/dq4A5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dq5gc', 'Blitz', 'smileeeeyyy', 1705, 'mahmoud-er', 1702, 'e4,e5,Nf3,Nc6,Bc4,Nf6,c3,Nxe4,O-O,d5,Bb3,Bc5,d4,exd4,cxd4,Bxd4,Nxd4,Qf6,Nxc6,bxc6,Nc3,Ba6,Nxe4,dxe4,Re1,O-O,Rxe4,Bb7,Be3,Rad8,Qg4,Qxb2,Re1,c5,Bh6,Bxe4,Qxe4,gxh6,h4,Rfe8,Qg4+,Qg7,Rxe8+,Rxe8,Qd7,Re1+,Kh2,Qe5+,g3,Qd4', 'Qxf7+,Kh8,Qf8#', 'https://lichess.org/training/dq5gc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dQ7ij', 'Rapid', 'MrQuagmire', 1639, 'HarrisonWells96', 1629, 'e4,g6,Nf3,Bg7,Bc4,d6,d3,h6,O-O,Nf6,Nc3,e5,Nd5,c6,Nxf6+,Bxf6,Re1,O-O,c3,Bg4,d4,d5,Bd3,exd4,cxd4,dxe4,Bxe4,Bxd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/dQ7ij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DqaWp', 'Rapid', 'topalov-36', 2169, 'serefekici', 1927, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,d6,O-O,Nf6,Nc3,h6,h3,O-O,Re1,Nxd4,Qxd4,Nd7,f4,d5,Qxd5,c6,Qh5,Nf6,Qf3', 'Qd4+,Kh1,Qxc4', 'https://lichess.org/training/DqaWp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dqb9u', 'Rapid', 'paololucca', 1811, 'Albleir', 1868, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,h6,Bh4,c5,e3,cxd4,Nxd4,O-O,Bd3,dxc4,Bxc4,Bb4,Qc2,Nbd7,O-O,Qc7,Ncb5,Qe5,Bg3,Qc5,Bd6,Qh5,Bxf8,Bxf8,Be2,Qg5,Bf3,Ne5,Nc3,Nxf3+,Nxf3,Qh5,Qa4,b6,Qh4,Qc5,Qd4,Qh5,Rac1,Bb7,Qh4', 'Bxf3,Qxh5,Bxh5', 'https://lichess.org/training/Dqb9u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DqbP1', 'Blitz', 'FM Tich0ndrius', 2481, 'FM Ciencia_3214', 2486, 'd4,d5,Nf3,Nf6,c4,c6,e3,Bg4,Nc3,e6,h3,Bh5,g4,Bg6,Ne5,Nbd7,Nxg6,hxg6,Bg2,Bd6,cxd5,exd5,O-O,O-O,Rb1,a5,a3,Re8,b4,axb4,axb4,b5,Qc2,Nb6,e4,dxe4,Nxe4,Nxe4,Bxe4,Qh4,Kg2,Nc4,Bxc6,Rac8,Bxe8', 'Ne3+,Bxe3,Rxc2', 'https://lichess.org/training/DqbP1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dqdsH', 'Blitz', 'MiCenotafio', 2292, 'FM magolosof', 2292, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,Nc3,Nc6,Qa4,d6,e5,dxe5,Nxe5,Bd7,Nxd7,Qxd7,Bb5,Bg7,O-O,O-O,Rd1,Qf5,Bxc6,bxc6,Bf4,Nd5,Nxd5,cxd5,c3,e5,Be3,Rfd8,Rd2,h5,Rad1,e4,c4,d4,Bxd4,Bxd4,Rxd4,Rxd4,Rxd4,e3,fxe3,Qb1+,Qd1,Qxb2,Rd8+,Rxd8,Qxd8+,Kh7,Qd4,Qxa2,c5,a5,c6', 'Qb1+,Kf2,Qc2+', 'https://lichess.org/training/dqdsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dqdt1', 'Classical', 'freddyy2884', 1766, 'Veshag', 1766, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Bg5,e5,Nb3,Be6,f4,Be7,Qd2,O-O,O-O-O,Qc7,Bxf6,Bxf6,Qxd6,Qxd6,Rxd6,exf4,Nc5,Re8,Nxb7,Nd7,Rxa6,Rab8,Nd6,Red8,a3,Nc5,Rc6,Be7,Rxc5,Bxd6,Rc6,Be7,Bc4,Bd7,Rc7,Bd6,Ra7,Bc5,Ra5,Be3+,Kb1,Bd2,Ka2,Rdc8,Bb3,Bxc3,bxc3,Rxc3,Rd1,Bg4,Rd4,h6,Ra7,Be6,Kb2,Rc5,e5,Bxb3,cxb3,Rxe5,Rxf4,Re2+,Kc3,Rxg2,Rfxf7,Rc8+,Kb4,Rg4+,Ka5,Rc5+,Kb6,Re5,b4', 'Rg6+,Kc7,Kxf7', 'https://lichess.org/training/dqdt1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dqDtR', 'Classical', 'Xequitep', 1641, 'itsipia', 1767, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Be7,O-O,d6,a3,a6,b4,Nf6,d3,Be6,Bxe6,fxe6,Rb1,Nd4,a4,Qd7,a5,Nb5,Nxb5,axb5,Nh4,g5,Ng6,Rg8,Nxe7,Qxe7,h3,Rd8,Rb3,d5,Re1,dxe4,Be3,exd3,Rb1,e4,c3,Nd5,Bd4,Qh7,f3,e3,Bxe3,Nxc3,Qb3,Nxb1', 'Qxe6+,Qe7,Qxg8+', 'https://lichess.org/training/dqDtR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DQdWQ', 'Rapid', 'gunahk', 1773, 'BessTarouch', 1827, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,Nf6,Nbd2,c5,c4,dxc4,Bxc4,cxd4,Nxd4,Bg6,Qa4+,Nbd7,Nb5,a6', 'Nc7+,Qxc7,Bxc7', 'https://lichess.org/training/DQdWQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DQEb3', 'Rapid', 'Jeremy__Corbyn', 1772, 'DrSaturn', 1811, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,h6,Be3,d6,Nc3,Be6,Bb3,O-O,Qd2,Ng4,O-O-O,Nxe3,fxe3,Bxb3,axb3,a5,Na4,b5,Nxc5,dxc5,Qc3,Qe7,h4,b4,Qc4,a4,g4,axb3,Qxb3,Rfd8,g5,hxg5,hxg5,g6,Rh2,Ra1+,Kd2,Rxd1+,Kxd1,Na5,Qa2,Ra8,Nd2,Qxg5,Re2,Qg1+,Re1,Qg4+,Kc1,Ra7,Nc4,Nb3+,Qxb3,Ra1+,Kd2,Rxe1,Kxe1,Qg1+,Kd2,Qf2+,Kc1', 'Qe1#', 'https://lichess.org/training/DQEb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DQeCS', 'Classical', 'payam34', 1815, 'MehmetErturk', 1817, 'e4,e5,Nf3,Nf6,Bc4,Ng4,d4,Nc6,h3,Nxf2,Kxf2,exd4,Bf4,Bc5,c3', 'dxc3+,Kg3,cxb2', 'https://lichess.org/training/DQeCS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DQfZC', 'Rapid', 'joaquin123456', 1770, 'kluski777', 1735, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,d6,Bc4,Be7,O-O,Nxe4,dxe5,O-O,Be3,Bf5,Nbd2,dxe5,Nxe4,Bxe4,Qe2,Bg6,Rad1,Bd6,Bg5,Qd7,Bd3,Rae8,Bxg6,fxg6,Qc4+,Kh8,Qb3,e4,Nd4,Nxd4,Rxd4,Rf5,Be3,Qc8,h3,Ref8,Rxe4,b6,Bd4,c5,Be3,Qb7,Re6,Qc6,Qc4,Qc7,f4,Qf7,b3,g5', 'Rxd6,Qxc4,bxc4', 'https://lichess.org/training/DQfZC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DqgXf', 'Rapid', 'Bacrot999', 2150, 'Vadim061092', 2105, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,d6,Nc3,e6,Bd2,Nf6,f3,a6,O-O-O,Qc7,g4,b5,Kb1,Bb7,h4,Rc8,h5,Ne5,Rc1,d5,g5,Bc5,Qe1,dxe4,gxf6,exf3,fxg7,Rg8,Nh3,f2,Nxf2,Bxf2,Qxf2,Bxh1,Bxb5+,axb5,Rxh1,b4,Re1,bxc3,Bxc3,Nc4,Qd4,Rd8,Qe4,Nd2+,Bxd2,Rxd2,Qxh7,Qxc2+', 'Qxc2,Rxc2,Kxc2', 'https://lichess.org/training/DqgXf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DqHLT', 'Rapid', 'SonicAttack', 1753, 'Cameron_Conn', 2226, 'e4,c5,Nf3,Nc6,c3,d5,Bb5,dxe4,Ne5,Bd7,Nxc6,bxc6,Ba4,Nf6,O-O,e5,d3,Be7,Bg5,exd3,Qxd3,O-O,Rd1,Nd5,Bc2,f5,Bxe7,Qxe7,Bb3,Be6,Qc4,Nf4,Qa6,Rad8,Na3,Bxb3,axb3,Qg5,g3,Nh3+,Kg2,f4,Qxc6,f3+,Kf1,Rd2', 'Qe6+,Kh8,Qxh3', 'https://lichess.org/training/DqHLT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dQHxy', 'Rapid', 'Jordan56', 1735, 'alin79', 1755, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Bc4,Nf6,Bg5,Be7,Nc3,c6,Rd1,Qc7,O-O,O-O,Rd3,Nbd7,Rfd1,Rad8,Qf5,Nc5,Rxd8,Bxd8,b4,Na6,Bxa6,bxa6,Bxf6,Bxf6,Rd7,Qb6,a3,c5,Nd5,Qc6,Qxf6,Qxd7,Qxe5,Re8,Qf4,cxb4,axb4,Qa4,f3,Qxc2,Ne7+,Kh8,Qg5,Qd1+,Kf2,Qd4+,Kf1,Qxb4,Nf5,Qb5+,Kg1,Qb6+,Kf1,Qg6,Qe3,Qb6,Qg5,Rg8,Ne7,f6', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/dQHxy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dQI2N', 'Rapid', 'Ural123', 1731, 'Neo87', 1777, 'e4,c5,c4,Nc6,Nc3,e6,d3,Be7,g3,a6,f4,Rb8,a4,Nf6,Bg2,d5,e5,Nd7,cxd5,exd5,Nxd5,O-O,Ne2,f6,exf6,Nxf6,Ndc3,Bg4,O-O,Nd4,h3,Bf5,Nxd4,Qxd4+,Kh2,Qxd3,Qxd3,Bxd3,Rd1,c4,Be3,Rfd8,Ba7,Rbc8,Bxb7', 'Rc7,Bxa6,Rxa7', 'https://lichess.org/training/dQI2N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dqjmn', 'Blitz', 'GM TemurKuybokarov', 2733, 'GM cutemouse83', 2885, 'e4,c5,Nf3,a6,c3,e6,d4,d5,exd5,exd5,Bd3,c4,Bc2,Bd6,O-O,Ne7,b3,cxb3,axb3,O-O,h3,Nbc6,Re1,Bf5,Bg5,Qd7,Bxe7,Nxe7,Bxf5,Qxf5,Nbd2,Nc6,Nf1,Qd7,Ne3,Bf4,Nc2,Rfe8,Qd3,g6,g3,Bh6,Kg2,Rac8,h4,Rxe1,Rxe1,Re8,Rxe8+,Qxe8,c4,Qd7,h5,Bg7,Qe3,gxh5,Qg5,dxc4,bxc4,Qg4,Qd5,Qe6,Qxh5,Qxc4,Ne3,Qd3,Nf5,Bf6,Nh6+,Kg7,Nf5+,Kg8,d5,Ne7,Qg4+,Ng6,d6,Qd5,d7,Kf8,Qb4+,Kg8,Qg4,Kf8,Ne3,Qe6,Qb4+,Kg7,Qxb7,a5,Nd5,Bd8,Qc8,Qxd5,Qxd8,Nf8,Qh4,Qxd7,Qg5+,Ng6,Nh4,Qe6,f3,Qf6', 'Nf5+,Qxf5,Qxf5', 'https://lichess.org/training/Dqjmn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dQlFX', 'Rapid', 'povermsj', 2027, 'sudhanshumishra9625', 1951, 'e4,c6,d4,d5,e5,Bf5,Bd3,e6,Bxf5,exf5,Nf3,c5,c3,cxd4,cxd4,Nc6,O-O,Bb4,a3,Ba5,b4,Bc7,Nc3,Nge7,Bg5,Qd7,Qa4,O-O,b5,Na5,Bxe7,Qxe7,Nxd5,Qd7,Nxc7,Qxc7,Rac1,Qb6,d5,a6,bxa6,Rxa6,Qd7,h6,Rfd1,Qb2,Qe7,Qb3,Qxf8+,Kxf8,Rc8+,Ke7,d6+,Kd7,Rc7+,Kd8,Rdc1,Rc6,h3,Rxc1+,Rxc1,Nc6,Re1,Kd7,Nd2,Qc3,Nf3,Qxa3,Rb1,Qa7,Re1,Ke6,Rd1,Kd7,Re1,g5,Kh1,Nd4,Nd2,Ne6,Nc4,Qxf2,Rb1,Qc2,Rxb7+,Kd8', 'Rb8+,Kd7,Nb6+,Kc6,Rc8+,Kxb6,Rxc2', 'https://lichess.org/training/dQlFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dqLhj', 'Rapid', 'Mr_Private', 1664, 'oldoldswede', 1698, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,Nge7,Na3,O-O,Nc4,d5,Nd2,Re8,Bd3,Bb6,exd5,Nxd5,O-O,Nxe3,fxe3,Qg5,N4f3,Bxe3+,Kh1,Qd5,Be4,Rxe4,Ng5,Qxg5,Nxe4,Qh4,Ng3,Bg4,Qd3,Re8,Nf5,Bxf5,Qxf5,Rf8,Rae1,Ne7,Qd7,Bg5,Qxc7,Nd5', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/dqLhj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DQm6V', 'Blitz', 'IM Toro123', 2648, 'IM Alexandr_KhleBovich', 2640, 'd4,Nf6,Bg5,c5,Bxf6,gxf6,d5,Qb6,Qc1,Bh6,e3,f5,g3,d6,c4,Nd7,Nc3,Nf6,Bd3,e5,f4,Bd7,Qc2,e4,Be2,a6,Nh3,Bg7,Nf2,h5,Rg1,Qa5,Rc1,b5,b3,bxc4,Bxc4,Bb5,Ke2,Ke7,h3,Bxc4+,bxc4,Rab8,Rb1,Rb4,Rb3,Rxc4,Rb7+,Nd7,Nfd1,Bxc3,Qb3,Ra4,Qxc3,Rxa2+,Kf1,Qxc3,Nxc3,Ra1+,Kf2,Rxg1,Kxg1,Rb8,Ra7,Rb3,Na4,Kd8,Kf2,Ra3,Ra8+,Kc7,Ra7+,Kc8,Rxa6,Kb7', 'Nxc5+,Nxc5,Rxa3', 'https://lichess.org/training/DQm6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dqnGD', 'Rapid', 'shmelinps', 1737, 'GuRoZ', 1829, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,Nxe5,Bxf2+,Kxf2,Qd4+,Kf3,Qxe5,d4,Qf6+,Ke3,Ne7,g3,Ng6,Nc3,O-O,b3,Bh3,Rg1,Rfe8,Ba3,Rad8,Qd3,Qg5+,Ke2,Bg4+,Kf2,Re6,Rgf1,Bh3,Kg1,Bxf1,Rxf1,Rf6,Re1,Nh4,Be7,Nf3+', 'Qxf3,Rxf3,Bxg5', 'https://lichess.org/training/dqnGD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DQofJ', 'Rapid', 'daniil-kaminskii', 2038, 'Sivitpej_M', 2128, 'f4,d5,h3,c5,g4,e6,Nf3,Nc6,g5,Qc7,d4,cxd4,Nxd4,a6,Nxc6,bxc6,Nd2,Bd6,Nf3,Bxf4,Qd4,e5', 'Bxf4,exd4,Bxc7', 'https://lichess.org/training/DQofJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dqswe', 'Bullet', 'pablisuuu', 1808, 'baronmesmer', 1829, 'd4,d5,Nf3,c6,g3,Nf6,Bg2,Bf5,O-O,e6,c4,Nbd7,Nc3,Bd6,Nh4,Bg6,Nxg6,hxg6,e4,dxe4,Bg5,Rxh2,Kxh2,Be7,Bxf6,Nxf6,Nxe4,Qa5,a3,O-O-O,b4,Qf5,Nxf6,Bxf6,Qf3,Bxd4,Qxf5,gxf5,Rad1,Kc7,f4,b6,Bh3,c5,Kg2,g6,Kf3,Kd6,Rfe1,Ke7,bxc5,bxc5,Rb1,Rd7,Rb5,Kf6,Reb1,g5,Bf1,g4+,Kg2,Bc3,Rb7,Rd2+,Kh1,Bd4,Rd7,Rf2,Bg2,e5,Rbb7,exf4,Rxf7+,Kg6,Rg7+,Kh6,Rh7+,Kg6,gxf4,Rxf4,Rbf7,Rf2,Bd5,Kg5,Rh2', 'Rf1+,Kg2,Rg1#', 'https://lichess.org/training/Dqswe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dQT3K', 'Rapid', 'Alshare', 1753, 'Durganp20', 1692, 'd4,Nf6,c4,d5,Nc3,dxc4,e3,Be6,Qa4+,c6,Bxc4,b5,Bxb5,cxb5,Nxb5,Bd7,Nf3,a6,Ne5,Bxb5,Qb3,e6,a4,Qa5+,Bd2,Qc7,axb5,a5,b6,Qb7,Qb5+,Nbd7,Bxa5,Bd6,Nxd7,Nxd7,O-O,O-O,f4,Ra6,e4,Nxb6,e5,Be7,f5,f6,exf6,Bxf6,Kh1,Bxd4,Rfd1,Bf6,fxe6,Be7,Rd7,Qe4,Qxa6,Nxd7,exd7,Ra8,Qb5,Bb4,Qc5', 'Bxc5,d8=Q+,Rxd8', 'https://lichess.org/training/dQT3K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DqTVp', 'Rapid', 'JoaosemNome', 1852, 'foebunu', 1883, 'e4,e5,Nf3,d6,Bc4,Bg4,O-O,Nf6,h3,Bxf3,Qxf3,Be7,Nc3,c6,d3,Nbd7,Bg5,O-O,Rae1,Kh8,Qg3,Nh5,Bxe7,Qxe7,Qg4,g6,Ne2,Ndf6,Qh4,Kg7,f4,Nxf4,Nxf4,exf4,Rxf4,Rae8,Ref1,Nh5', 'Rxf7+,Rxf7,Rxf7+,Qxf7,Bxf7', 'https://lichess.org/training/DqTVp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DquQy', 'Blitz', 'gourav2001k', 1623, 'DIEG0-2', 1530, 'e3,e5,c4,Nf6,d4,Bb4+,Bd2,Bxd2+,Nxd2,exd4,exd4,O-O,Ngf3,d5,Be2,dxc4,Bxc4,Re8+,Be2,Nc6,Nb3,Bg4,O-O,Nd5,Ne5,Bxe2,Qxe2,Nxe5,dxe5,Nf4,Qe4,Qg5,Rfe1,Rxe5,Qxb7,Rae8,Rxe5,Qxe5,g3', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/DquQy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dQuzs', 'Blitz', 'sambosan', 1674, 'kiss_gabor', 1690, 'e4,d6,Bc4,c5,Qf3,Nf6,Bxf7+,Kxf7,d3,Bg4,Qg3,Nc6,Bg5,Ne5,Bxf6,exf6,h3,Bh5,Ne2,Qb6,b3,Bxe2,Kxe2,Be7,Nc3,Qd8,Nd5,Nd7,Rhe1,Nb6,Kf1,Nxd5,exd5,b6,Re3,Re8,Rae1,Qc7,h4,Rad8,h5,Rd7,h6,g6,f4,f5,c4,Qd8,Qh3,Bf6,g4,Rxe3,Rxe3,Bd4,Re2,Re7,Rxe7+,Qxe7,gxf5,gxf5,Qh5+,Kf8,Qxf5+,Qf6,Qc8+,Kf7,Qd7+,Qe7,Qf5+,Kg8,Qg4+,Kh8', 'Qc8+,Qf8,Qxf8#', 'https://lichess.org/training/dQuzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DqVHT', 'Rapid', 'Pantera10', 1689, 'rafaella_bog', 1644, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Nc3,Nd7,a3,c5,Bg5,Be7,Bd3,Bxd3,Qxd3,Bxg5,Nb5,Be7,O-O-O,c4,Qe3,a6,Nd6+,Bxd6,exd6,Ndf6,Qf4,Nh6,Rde1,Nf5,Qxf5,O-O,Qf4,h6,Re5,Qxd6,h4,Ne4', 'Rxe4,Qxf4+,Rxf4', 'https://lichess.org/training/DqVHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DQvo1', 'Rapid', 'LittleJohn1', 1714, 'PlanetLABC61', 1686, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e6,g4,b5,Be3,b4,Na4,e5,Nf5,Bxf5,gxf5,Nbd7,Qd2,Qc7,b3,a5,Bb5,Be7,Bxd7+,Nxd7,Rg1,Bf6,Rd1,Nc5,Qxd6,Qxd6,Rxd6,Nxa4,bxa4,Be7,Rd5,Bf6,Bb6,Rc8,Rg2,Rc3,Rxa5,O-O,Bc5,Rc8,Bxb4,Rxf3,Rc5,Rxc5,Bxc5,Rc3,Bb6,Rc6,a5,Be7,Kd1,Bc5,Rd2,f6,Rd8+,Kf7,Rd7+,Kf8,Rc7,Rd6+,Kc1', 'Ba3+,Kb1,Rd1#', 'https://lichess.org/training/DQvo1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DqXmj', 'Classical', 'gersasur', 1711, 'UnknownAbyss', 1703, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c3,c5,Bb5+,Nc6,Bxc6+,bxc6,O-O,cxd4,Nxd4,Bxb1,Rxb1,c5,Nf3,Qd7,Be3,Rc8,a3,a5,a4,Ne7,b3,c4,Bd4,Ng6,bxc4,Rxc4,Rb8+,Rc8,Rxc8+,Qxc8,Qb3,Ne7,Rb1,Nc6,Qb7,Qxb7,Rxb7,Nxd4,Nxd4,Be7,Ra7,Bd8,Ra8,O-O,Nc6,Bc7,Rxf8+,Kxf8,f4,f5,Kf2,g5,g3,g4,Ke3,Bb6+,Nd4,Ke7,Kd3,Kd7,c4,Bxd4,Kxd4,Kc6', 'cxd5+,exd5,e6,Kd6,e7', 'https://lichess.org/training/DqXmj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dQxvE', 'Classical', 'master_1killer', 1810, 'Azadsinghverma', 1850, 'd4,Nf6,e3,d5,Bd3,e6,a3,Bd6,Nc3,c6,Qe2,e5,dxe5,Bxe5,Bd2,O-O,f4,Bxf4,exf4,Re8,Be3,d4,Nd1,dxe3,Nf3,Bg4,O-O,Bxf3,Qxf3,Qe7,Nc3,Nbd7,Rae1,Qc5,Re2,Nb6,Ne4,Nxe4,Bxe4,Qd4,Bd3,Nd5,Rfe1,Qxf4,Qh3,h6,Qd7,Rab8,Rf1,Qc7,Qf5,g6,Qh3,h5,Qxh5,gxh5,Rf5,Re5,Rf3,h4,c4,Nb6,Rf4,Qe7,Rg4+,Kh8,g3,hxg3,hxg3,Rd8', 'Rh2+,Qh4,Rhxh4+,Rh5,Rxh5#', 'https://lichess.org/training/dQxvE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dQzbt', 'Rapid', 'wielet', 1715, 'verbicide', 1735, 'Nf3,d5,d4,h6,g3,c6,Bg2,Nd7,b3,Ndf6,Nbd2,e6,c4,Bb4,a3,Bc3,Ra2,Ne4,Qc2,Ngf6,O-O,Bxd2,Nxd2,Nxd2,Bxd2,O-O,Re1,Qd7,e4,a6,e5,Nh7,f4,Re8,Qd1,dxc4,bxc4,Qxd4+,Kh1,Qxc4,Rc2,Qa4,Re3,Qd4,Rcc3,Qa7,Rb3,Rd8,Qc2,Nf8,Be1,Bd7,Bf2,Qb8,Red3,Qc8,Bb6,Re8,Bc5,Ng6,Qd2,Rd8,Bb6,c5,Bxd8,Bc6,Bb6,Bxg2+,Kxg2,Qc6+,Kh3,Kh7,Rd6,Qe4,Bxc5,Qf5+,Kg2,Qe4+,Kf2,Qh1,Rd8,Qxh2+,Ke3,Qxg3+,Ke4,Qxb3,Rxa8,Qc4+,Bd4,Qd5+,Ke3,b6,Rxa6,Nh4,Qd3+,g6,Qe2,Qb3+,Kf2,Qh3,Ke1', 'Nf3+,Kf2,Nxd4', 'https://lichess.org/training/dQzbt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DQzIB', 'Blitz', 'Alpha_Zero_1', 1561, 'coast111', 1602, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Nge7,O-O,Nf5,Na3,cxd4,cxd4,Bxa3,bxa3,Ncxd4,Nxd4,Nxd4,Be3,Nxe2+,Qxe2,Qc7,Bf4,O-O,Qg4,Re8,Rfe1,Bd7,Bh6,g6,Bg5,Bb5,Bf6,h6,Re3,Qc4,Qh3,Kh7,Rc3,Qf4,Rf3,Qd4', 'Qxh6+,Kxh6,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/DQzIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DQZiq', 'Blitz', 'FrancisTalaboc18', 2368, 'EduardoTare', 2416, 'd4,d6,Bg5,c6,Nf3,Bg4,Nbd2,Nd7,c3,Ngf6,Qc2,e5,e3,Be7,Bd3,Bh5,O-O,Bg6,Rac1,O-O,Rfd1,Re8,Bxg6,hxg6,dxe5,dxe5,Nc4,Qc7,e4,b5,Ne3,Nc5,Bxf6,Bxf6,Ng4,Qe7,Qe2,Qe6,Nxf6+,gxf6,a3,Rab8,h3,a5,Qe3,Qc4,Rd6,Nxe4,Rd7,Nc5,Rd6,Ne6,Nd2,Qa2,Ne4,Kg7,Qf3,f5,Ng3,e4,Qe2,Rbc8,h4,Nf4,Qe3,Ne6,Qe2,Red8,Rcd1,Rxd6,Rxd6,Qc4,Qd2,Qc5,h5,Qe5,hxg6,fxg6,Rd7+,Kf6', 'Nh5+,gxh5,Qh6#', 'https://lichess.org/training/DQZiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DqZka', 'Rapid', 'kickback', 1953, 'Assalonne', 1954, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,Na6,Bd3,Bg4,O-O,Nd7,Be3,e5,fxe5,dxe5,d5,Nac5,Bb1,f5,h3,Bxf3,Rxf3,f4,Bf2,g5,b4,Na6,a3,h5,Rd3,Qe8,d6,c6,Ba2,Rd8,c5+,Kh7,Bc4,Qg6,Qb3,g4,Be6,Rf6,Bf5,Rxf5,exf5,Qxf5,Qc2,gxh3,Rd2,Qxc2,Rxc2,hxg2,Kxg2,Bf6,Rh1,Rg8+,Kf3,Kh6,Ne4,Bd8,Bh4,Bxh4,Rxh4,Rg5,Nxg5,Kxg5,Rch2,Nf6,R4h3,e4+,Ke2,Nb8,Rg2+,Kf5,Rf2,Nbd7,Rh4,f3+,Ke3', 'Ng4+,Rxg4,hxg4', 'https://lichess.org/training/DqZka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DqzvJ', 'Blitz', 'YefimG', 1888, '_the_boss', 1656, 'Nc3,d5,e4,dxe4,Nxe4,e6,d4,c6,Nf3,Be7,Bd3,Nf6,O-O,Nxe4,Bxe4,Bf6,c3,O-O,Qe2,Nd7,Bf4,Nb6,Ne5,Qe7,Qh5,g6,Qg4,Bg7,Bg5,f6,Bh4,g5,Qh5,Bh8,Ng4,gxh4,Nh6+,Kg7,Qg4+,Kxh6', 'Qxh4+,Kg7,Qxh7#', 'https://lichess.org/training/DqzvJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dR0nq', 'Rapid', 'sobotakratko', 1878, 'Efthimisggr', 1873, 'e4,b6,f4,Bb7,d3,e6,Nc3,Bb4,Bd2,Nf6,a3,Bxc3,Bxc3,d5,exd5,Bxd5,Nf3,O-O,Be2,c5,O-O,Nc6,Qe1,Ne7,Ne5,Ng6,f5,exf5,Rxf5,Nd7', 'Nxg6,hxg6,Rxd5', 'https://lichess.org/training/dR0nq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DR1Lf', 'Rapid', 'albervanio', 1786, 'X-gun', 1710, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,b5,Bb3,Na5,Nxe5,Nxb3,axb3,d6,Nf3,Bb7,d3,Ng6,Nc3,Be7,Qe2,O-O,Be3,Ne5,Nxe5,dxe5,f4,exf4,Bxf4,Bc5+,Be3,Bxe3+,Qxe3,Re8,Kh1,Bc8,Nd5', 'Qxd5,exd5,Rxe3,Rfe1,Rxe1+', 'https://lichess.org/training/DR1Lf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dR1LV', 'Blitz', 'samjohnW', 2098, 'BurungHantu', 2114, 'e4,d6,Nf3,c5,Nc3,a6,Nd5,e6,Nf4,b5,a4,b4,Bc4,Nc6,d4,cxd4,Nxd4,Ne5,Bb3,Nf6,f3,Bd7,Bd2,a5,c3,Qb6,O-O,g5,Nh3,h6,f4,Neg4,fxg5,hxg5,Bxg5,Bg7,Bxf6,Nxf6,Kh1,Rb8,Qd3,bxc3,Qxc3,e5,Nb5,Bxb5,axb5,Qxb5,Ra3,Qb7,Ng5,Nxe4,Nxe4,Qxe4,Qc7,O-O,Bxf7+,Kh8,Rh3+,Bh6,Rxh6+,Kg7,Bg6+,Kxh6', 'Qh7+,Kg5,Qh5#', 'https://lichess.org/training/dR1LV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dr1PM', 'Rapid', 'Zpada', 1838, 'Currychicken', 1855, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Nxc6,bxc6,O-O-O,Be6,Bh6,Qa5,b3,Nxe4,Nxe4', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/dr1PM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dR1Xc', 'Rapid', 'RenanChess', 2000, 'kou13', 2048, 'f4,c5,Nf3,d5,e3,Nc6,Bb5,g6,Bxc6+,bxc6,Ne5,Qd6,O-O,Bg7,Nf3,Bf5,c3,c4,b3,Bd3,Rf2,Nf6,Ba3,Qc7,Ne5,Ne4,Nxd3,cxd3,Rf3,O-O,Qf1,e5,Bxf8,Rxf8,Qxd3,f5,g3,Rd8,Qc2,d4,cxd4,exd4,exd4', 'Bxd4+,Kh1,Bxa1', 'https://lichess.org/training/dR1Xc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dr5So', 'Blitz', 'rampichino', 1718, 'freivonstil', 1708, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nc6,Nf3,Nge7,Be2,d5,exd5,Nxd5,O-O,Bd6,Nc3,Nf6,Bg5,Be7,Re1,O-O,Bc4,a6,a4,Bd7,d5,exd5,Nxd5,Nxd5,Qxd5,Be6,Qxd8,Raxd8,Bxe6,fxe6,Bxe7,Nxe7,Rxe6,Nc6,Ne5,Nxe5,Rxe5,Rd2,f3,Rxb2,a5,Rd8,Rae1,Rdd2,Re8+,Kf7,R8e7+,Kg6,R7e6+,Kh5', 'R1e5+,g5,g4+,Kh4,Rh6#', 'https://lichess.org/training/dr5So');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dR6oc', 'Bullet', 'sportcris', 1552, 'meare', 1547, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,Bxc6+,bxc6,a3,h6,b4,Bb6,a4,a5,b5,c5,c4,Nf6,d3,O-O,Nc3,Bb7,Bd2,c6,Rb1,cxb5,Nxb5,Bc6,Qb3,Qd7,h3,Bxb5,Qxb5,Rfb8,Qxd7,Nxd7,Rb5,Bd8,Rfb1,Rxb5,Rxb5,Rb8,Bxa5,Bxa5,Rxa5,Rb1+,Kh2,Rb2,Kg3,Nf6,Ra6,Ne8,Ra8,Kf8,a5,Rb3,a6,Rxd3,a7,Ra3,Kg4,g6,Nd2,Ke7,Nb1', 'Nf6+,Kh4,g5#', 'https://lichess.org/training/dR6oc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dr7Am', 'Rapid', 'Consumaster', 1771, 'leonio', 1764, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,Nf3,Bg4,Be2,dxc4,Bxc4,c5,Qb3,O-O,Qxb7,cxd4,Qxa8,dxc3,bxc3,Qc7,Bd5,Nxd5,Qxd5,Qxc3+,Qd2,Qxa1,O-O,Nc6,Ba3,Qf6,Ne1,Rd8,Qc2,Ne5,Qc7,e6', 'Be7,Qxe7,Qxe7', 'https://lichess.org/training/Dr7Am');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dr9jH', 'Blitz', 'FM pesotskiymikhail', 2201, 'FM Urochess', 2405, 'd4,c5,d5,d6,c4,Nf6,Nc3,a6,e4,b5,cxb5,g6,Nf3,Bg7,Be2,O-O,O-O,Nfd7,Bg5,axb5,Bxb5,Ba6,Qd2', 'Bxc3,Qxc3,Bxb5', 'https://lichess.org/training/Dr9jH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRaSF', 'Blitz', 'Denys_Stetsenko', 2267, 'grandmaster0717', 2395, 'd4,d5,Nf3,Nf6,Bf4,c5,e3,Nc6,c3,Qb6,Qb3,c4,Qc2,Bf5,Qc1,e6,Nbd2,h6,Be2,Be7,h3,O-O,Bd1,Ne4,Bc2,Nxd2,Nxd2,f6,O-O,Rae8,Bxf5,exf5,Qc2,g5,Bg3,Kg7,b3,cxb3,axb3,f4,exf4,Bd6,fxg5,Bxg3,fxg3,hxg5,Rf5', 'Nxd4,cxd4,Qxd4+,Kh2,Qxa1', 'https://lichess.org/training/DRaSF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('drB2D', 'Classical', 'KGV1108', 2083, 'VenchakovaAnna', 2277, 'e4,e5,Nc3,Nf6,Bc4,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,f5,Bd3,Qg5,Bf1,Nc6,d4,Qd8,dxe5,Qxd1+,Kxd1,Nxe5,Bf4,Ng6,Bxc7,Be6,Nf3,Bc5,Bb5+,Ke7,Ng5,Bd5,Re1+,Kf6,f4,h6,c4,hxg5,cxd5,Nxf4,Bxf4,gxf4,Re6+,Kf7,Rc1,Rac8,Bc4,Be3,Rc2,Rhd8,d6', 'Rxc4,Rxc4,Kxe6', 'https://lichess.org/training/drB2D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRBP0', 'Rapid', 'VitoJanko', 1869, 'Moka1987', 1883, 'e4,e5,Nc3,Nc6,Bc4,d6,d3,h6,f4,Nf6,Nf3,Bg4,O-O,Nd4,Ne2,Nxf3+,gxf3,Bh5,Kh1,Bg6,f5,Bh7,Rg1,g6,Ng3,Qd7,fxg6,Bxg6,a4,O-O-O,b4,a6,b5,a5,Be3,b6,Qd2,d5,exd5,Nxd5,Bxd5,Qxd5,Ne4,Qe6,Qc3,Bb4,Qb3,Qh3,Rg3,Qh4,Qc4,Kb8,c3,Bd6', 'Nxd6,Qxc4,Nxc4', 'https://lichess.org/training/DRBP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRbxQ', 'Rapid', 'abe85', 1778, 'Tolik69', 1745, 'd4,d5,Bf4,e6,e3,c5,c3,c4,Nf3,Nc6,b3,Nf6,bxc4,Be7,cxd5,Nxd5,Bg3,O-O,Bd3,Qa5,Qb3,Qb6,Qc2,g6,O-O,Bd7,Ne5,Nxe5,Bxe5,Rac8,c4,Nb4,Qe2,Nxd3,Qxd3,f6,Bg3,Qb2,Nd2,Bb4,Rfb1', 'Qxd2,Qxd2,Bxd2', 'https://lichess.org/training/DRbxQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('drc1l', 'Rapid', 'Yury_Drakakhrust', 2237, 'Danielle1001', 2294, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,exd4,Qb3,Na5,Bxf7+,Kf8,Qa4,Kxf7,Qxa5,d6,cxd4,b6,Qd2,Nf6,Nc3,Rf8,O-O,Kg8,Bb2,Bb7,Ng5,Qd7,d5,Ng4,Ne6,Rf6,Ne2,Rg6,h3,Ne5,Bxe5,dxe5,Qc3,c6,Qxe5,cxd5,N2f4,Bf6,Qf5,Rh6,Rad1,d4,e5,Be7,Rxd4,Qc6,Ng5,Rf8,Nd5,Bc5,Qe4,Rd8,Qf4,Rf8,Qe4,Rg6,Rc1,Rxg5', 'Ne7+,Bxe7,Rxc6,Bxc6,Qxc6', 'https://lichess.org/training/drc1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dRCQB', 'Rapid', 'Aditya74', 1774, 'RedRakus', 1748, 'Nf3,d5,g3,c5,d4,cxd4,Nxd4,e5,Nb3,Nf6,Bg2,Be6,Bg5,Be7,Nc5,Qa5+,Nc3,Qxc5,O-O,O-O,Bxf6,Bxf6,Nxd5,Rd8', 'Nxf6+,gxf6,Qxd8+', 'https://lichess.org/training/dRCQB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DrepC', 'Rapid', 'themeyes', 1844, 'massimoprisco', 1868, 'e4,e6,d4,d5,e5,c5,Nc3,cxd4,Nxd5,exd5,Qxd4,Nc6,Qf4,Be6,Bb5,Ne7,Nf3,Ng6,Qg3,Be7,h4,O-O,h5,Nh8,Bh6,g6,Bxf8,Bxf8,hxg6,Nxg6,Bd3,Bg7,Bxg6,fxg6,Ng5,Bxe5,Qh4,Qa5+,c3,Bxc3+,Kd1,Bf6', 'Qxh7+,Kf8,Nxe6+', 'https://lichess.org/training/DrepC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRFlr', 'Rapid', 'AndrewPBell', 2005, 'Shturmovic', 1971, 'c4,c5,Nc3,g6,g3,Bg7,Bg2,Nc6,Nf3,d6,O-O,f6,e3,Nh6,d4,cxd4,exd4,Nf7,b4,a6,d5,Nce5,Nd2,O-O,Re1,f5,Qb3,Bd7,Rb1,Nd3,Re3,Nxc1,Rxc1,Rc8,Rce1,Bf6,f4,Bd4,Kh1,Bxe3,Rxe3,Re8,Nf3,h6,Bf1,Qb6,Ne2,a5,a3,axb4,axb4,Ra8,Ned4,Ra1,Kg2,Nd8,Qc3,Qa7,c5,Ra3', 'Qxa3,Qxa3,Rxa3', 'https://lichess.org/training/DRFlr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('drGbg', 'Classical', 'Destruct1', 1926, 'iani_keke', 1872, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,Be2,Nf6,Nc3,Ng6,O-O,Be7,Be3,O-O,a4,Ng4,Bd2,Nf4,Bc4,f5,b4,Rf6,Nh4,Rh6,Nxf5,Bxf5,exf5,Nxh2,g3,Nh3+,Kxh2,Nxf2+,Bxh6,Nxd1,Bd2,Nxc3,Bxc3,Bg5,Rf3,Qf6,Rh1,Rf8,g4,Qe7,Rh3,h6,Kg2,Bf4,Be1,Qg5,Be2,a6', 'Bh4,Qxh4,Rxh4', 'https://lichess.org/training/drGbg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('drGO3', 'Blitz', 'firmansimbolon', 2283, 'coughart', 2165, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c3,Qc7,Bb5,a6,Ba4,b5,Bc2,Bg4,Nbd2,Rc8,h3,Bh5,Bb3,e6,O-O,Bd6,Re1,Nf6,Nf1,O-O,Be3,Ne4,N1d2,Nf6,Qe2,Na5,Bc2,Nc4,Nxc4,bxc4,b3,cxb3,axb3,Qxc3,Rec1,Qb4,Rxa6,Bg6,Bxg6,Rxc1+,Bxc1,hxg6,Ba3,Qxa3,Rxa3,Bxa3,Qa6,Be7,Qb7,Ba3,b4,Ne4,Ne5,Bb2,Nc6,Nd6,Qd7,Nc4,b5,Ra8,Qb7,Ra1+,Kh2,Rd1,Qc8+,Kh7,Ne7,Bxd4,Qg8+,Kh6,f4,Bg1+,Kg3', 'Rd3+,Kh4,Bf2+,g3,Bxg3+,Kg4,f5+,Nxf5+,exf5#', 'https://lichess.org/training/drGO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('drgVY', 'Rapid', 'satrancosma', 2023, 'lion88', 1962, 'e4,e5,Bc4,Nf6,Nf3,Nc6,O-O,Bc5,d3,h6,h3,O-O,Be3,Bb6,Nc3,d6,Ne2,Na5,Bxb6,axb6,Bb3,Nxb3,axb3,Be6,Ng3,Nd7,d4,exd4,Nxd4,Qf6,Ngf5,c5,Nxe6,fxe6,Nxd6,Ne5,Rxa8,Rxa8,Nxb7,Rb8,Nd6,Rd8,f4,Nf7,e5,Nxe5,fxe5,Qxe5,Nf7', 'Qe3+,Kh1,Rxd1', 'https://lichess.org/training/drgVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('drHBm', 'Blitz', 'Jpc20', 2197, 'IM DeandraChess', 2365, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Qg4,c5,dxc5,Nc6,Nf3,Ndxe5,Nxe5,Nxe5,Qg3,Ng6,Nb5,e5,h4,a6,h5,Nf4,Nd6+,Bxd6,Qxg7,Rf8,cxd6,Qxd6,Bxf4,exf4,Qxh7,Qb4+,c3,Qxb2,Rd1,Qxc3+,Rd2,Be6,Be2,O-O-O,Qc2,d4,h6,Kb8,h7,Rh8', 'Qxc3,dxc3,Rxd8+', 'https://lichess.org/training/drHBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DrhL0', 'Rapid', 'sparrowx', 1828, 'keinstein1', 1903, 'd4,d5,Bf4,Bf5,e3,Nf6,Nf3,e5,Bxe5,Nbd7,Bg3,c5,c3,c4,b3,b5,bxc4,bxc4,Nbd2,Qa5,Nh4,Bd3,Bxd3,cxd3,Nb1,Qb5,Nf3,Qb2,Nbd2,Qxc3,O-O,Ne4,Rc1,Qa5,a4,Bd6,Nxe4,dxe4,Nd2,Bxg3,fxg3,Nf6,Nxe4,Nxe4,Qf3,Qd5', 'Rc5,Qe6,Re5', 'https://lichess.org/training/DrhL0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRhrS', 'Rapid', 'Auditor74', 1704, 'jakerman', 1728, 'e4,c5,Nf3,d6,Nc3,Nc6,Bb5,g6,Bxc6+,bxc6,d4,cxd4,Qxd4,Nf6,e5,dxe5,Qxd8+,Kxd8,Nxe5,Ke8,Nxc6,Bg7,O-O,Bb7,Na5,Ba6,Re1,e6,Nc6,Bb7,Ne5,Ke7,Bg5,Rhd8,Rad1,Kf8,Ng4', 'Rxd1,Rxd1,Nxg4', 'https://lichess.org/training/DRhrS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRhwO', 'Rapid', 'kner58', 1776, 'lonejackBR', 1681, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Bc4,Nf6,Nc3,O-O,O-O,c6,Nf3,Bg4,h3,Bxf3,Qxf3,Nbd7,Bf4,b5,Bb3,b4,Ne2,Nc5,Ng3,Nxb3,Qxb3,c5,Qf3,Nd7,Rfd1,h6,Bxd6,Bxd6,Rxd6,Ne5,Rxd8,Nxf3+,gxf3,Raxd8,Kf1,Rd2,Rc1,c4,Nf5,b3,axb3,cxb3,cxb3,Rxb2,Rc3,g6,Nxh6+,Kg7,Ng4,Rb8,Rc7,a5,Ne5,Kf6', 'Nd7+,Ke6,Nxb8', 'https://lichess.org/training/DRhwO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dRiCh', 'Classical', 'FrancoK', 1719, 'Siyarqasimi1986', 1720, 'c4,Nf6,Nc3,e6,e4,Bb4,d3,b6,Bd2,d6,Be2,Bb7,Bf3,Nc6,Nge2,O-O,O-O,e5,a3,Bxc3,Nxc3,Nd4,Be2,a6,f4,Nxe2+,Qxe2,exf4,Bxf4,Qe7,Qf2,Rae8,Bg5,h6,Bxh6', 'Ng4,Bxg7,Nxf2', 'https://lichess.org/training/dRiCh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRIDn', 'Rapid', 'kmistry999', 1616, 'makiczny16', 1522, 'e4,c5,f4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Be6,Bb5+,Nd7,Bxd7+,Qxd7,Nf3,Bd6,d3,O-O,O-O,b5,c3,c4,d4,Rfe8,Bd2,Rad8,Re1,Bg4,h3,Bxf3,Qxf3,Rxe1+,Rxe1,a5,Qg4,Qxg4,hxg4,b4,Kf2,bxc3,Bxc3,Bxf4,Kf3,Bc7,Re4,g5,b3,cxb3,axb3,Rc8,d5,Be5,Bxe5,Rc3+,Re3', 'Rxe3+,Kxe3,fxe5,Ke4,f6', 'https://lichess.org/training/DRIDn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRk7W', 'Rapid', 'chi007', 1769, 'moppersmurf', 1703, 'e4,c5,Nc3,Nc6,Nf3,Nf6,Bb5,a6,Bxc6,bxc6,d3,d5,e5,Nd7,O-O,Qc7,Re1,e6,Bf4,g6,Qd2,Bg7,Bh6,O-O,Bxg7,Kxg7,Ne2,a5,Ng3,Ba6,Qg5,Rfb8,b3,a4,bxa4,Rb2,Rec1,c4,Nh5+,Kh8,Nf6,Nxf6,Qxf6+,Kg8,dxc4,Bxc4,a3,Rxa4,Nd2,Be2,Nb3,Re4,a4,Rxe5,a5,Rf5,Qh4,Bc4,a6,Qa7,Nd2,Rb6,Nxc4,dxc4,Rd1,Rd5', 'Rxd5,cxd5,Qd8+,Kg7,Qxb6,Qxb6,a7,Qb2,a8=Q', 'https://lichess.org/training/DRk7W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dRm0o', 'Blitz', 'NM frostbitten', 2274, 'TheChessPrince', 2446, 'e4,c5,Nf3,e6,g3,Nc6,Bg2,g6,O-O,Bg7,c3,Nge7,d4,cxd4,cxd4,d5,e5,O-O,Nc3,h6,Bf4,g5,Be3,a6,h4,Nf5,hxg5,Nxe3,fxe3,hxg5,Rc1,f6,exf6,Bxf6,Nh2,Bg7,Ng4,Bd7,Qd3,Rf5,Rxf5,exf5,Bxd5+,Kh8,Kg2,Kh7,Rh1+,Kg6,e4,Nxd4,exf5+,Bxf5,Qe3,Bxg4,Rf1,Bf6,Be4+,Bf5,Nd5,Qd6,g4,Bxe4+', 'Qxe4+,Kg7,Rxf6,Qxf6,Nxf6', 'https://lichess.org/training/dRm0o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DrNdM', 'Rapid', 'ManOfRain', 1923, 'aungphyominarsam', 1935, 'c4,Nf6,Nc3,e6,g3,d5,cxd5,exd5,Bg2,c6,d4,Be7,Nf3,O-O,Ne5,Nbd7,f4,Ne8,O-O,Nd6,b3,Nf6,Qd3,Bf5,Qd1,Nfe4,Bb2,Nxc3,Bxc3,Be4,e3,Bxg2,Kxg2,Ne4,Qc2,h5,Rf3,g6,Raf1,Kg7,h4,f5,Rc1,Ba3,Bb2,Qa5,Rff1,Rfd8,Rfe1,Bb4,Re2,Qxa2', 'Ra1,Qxa1,Bxa1', 'https://lichess.org/training/DrNdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRow2', 'Blitz', 'valu64', 1932, 'bhadhri', 1931, 'g3,d5,c4,Nf6,cxd5,Nxd5,Nc3,e6,Bg2,Bb4,e3,c6,Nge2,Nd7,a3,Bxc3,bxc3,Ne5,d4,Nc4,O-O,Qa5,Bd2,Nxd2,Qxd2,Bd7,e4,Nf6,Rab1,Qc7,f4,O-O,Rb2,Rfd8,Rfb1,Rab8,Qe3,Be8,Nc1,b6,Nd3,Rd7,Ne5,Rdd8,f5,exf5,exf5,Nd5,Bxd5,Rxd5,Qg5,f6,Qg4,fxe5,dxe5,Qxe5,Re2,Qxc3,Rbe1,Bf7,f6,Qxf6,Rf2,Qd4,Qf3,Rf8', 'Qxf7+,Rxf7,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/DRow2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dRP3N', 'Blitz', 'EMPHYTEOSE', 1607, 'gmhana3000', 1907, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Bxf2+,Kxf2,Nf6,g3,d6,Kg2,Ne7,h3,Ng6,Bg5,h6,Bxf6,gxf6,Rf1,c6,Nbd2,Rg8,Kh2,Qd7,g4,Nf4,Ng1,h5,Rf2,hxg4,hxg4,Rh8+,Kg3,a6,Qf3,b5,Bb3,Rg8,Bxf7+,Kxf7,Kh2,Rxg4,Nh3,Nxh3', 'Qxf6+,Kg8,Qf8+,Kh7,Rf7+,Qxf7,Qxf7+', 'https://lichess.org/training/dRP3N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRq2U', 'Blitz', 'vbajnok', 1704, 'long2212', 1644, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,c3,Nf6,Re1,g6,e5,dxe5,Nxe5,Nxe5,Rxe5,Ng4,Re2,Qd6,g3,Bh6,Re4,f5,Re1,O-O-O,Qa4,Qb6,Rxe7,Bg5,Re2,Kb8,h3,Nf6,Na3,Ne4,Nc4,Qc7,Rxe4,fxe4,h4,Bf6,Ne3,Rhe8,b4,cxb4,Qxb4,Qd6,Qc4,Rc8,Qa4,Bg7,Rb1,Qc6,Qb3,Qc7,Nd5,Qd7,d4,exd3,Bf4+,Ka8', 'Nb6+,axb6,Qa3+,Qa4,Qxa4#', 'https://lichess.org/training/DRq2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('drQWK', 'Rapid', 'Bark72', 2174, 'FM Babay81', 2097, 'e4,d6,d4,Nd7,Nc3,e5,Nf3,c6,Be3,Ngf6,h3,Qc7,Kd2,b5,Kc1,b4,dxe5,dxe5,Na4,Nxe4,Bd3,Nef6,Nd2,Qa5,b3,Be7,g4,Nd5,Nc4,Qc7,Bd2,O-O,Qf3,N7b6,Nab2,a5,Nxb6,Qxb6,Nc4,Qd4,Rb1,Nc3,Bxc3,Qxc3,a4,bxa3', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/drQWK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dRrCT', 'Rapid', 'leoasim', 1661, 'lucasgranadeiro', 1688, 'e4,e5,Bc4,Nf6,Qf3,c6,c3,d5,exd5,cxd5,Bb3,e4,Qg3,g6,d3,Nh5', 'Qe5+,Qe7,Qxh8', 'https://lichess.org/training/dRrCT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRsi2', 'Rapid', 'JuanVianeyArias', 2031, 'Passarim', 1824, 'd4,d5,c4,Bf5,Nc3,e6,Nf3,Nf6,Bg5,Bb4,a3,Bxc3+,bxc3,O-O,e3,Nbd7,cxd5,exd5,Bb5,c6,Bd3,Bxd3,Qxd3,h6,Bh4,g5,Bg3,Ne4,O-O,Nxg3,fxg3,Kg7,Rab1,b6,e4,dxe4,Qxe4,Nf6,Qxc6,Rc8,Qb5,Rxc3,Kh1,Qd5,Qa6,Rc7,Ne5,Qxd4,Rbe1,Ne4,Ng4,Rc2,Re2,Nd2,Ne3,Nxf1', 'Nf5+,Kg8,Nxd4', 'https://lichess.org/training/DRsi2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRtx2', 'Classical', 'micfil94', 1619, 'sinenROQUE', 1678, 'd4,e6,c4,d5,Nc3,c6,Nf3,f5,Bg5,Be7,e3', 'Bxg5,Nxg5,Qxg5', 'https://lichess.org/training/DRtx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DRuAj', 'Rapid', 'retniinter', 1728, 'Piolo-Sale', 1808, 'd4,d5,e3,e6,Nf3,a6,c4,c5,cxd5,cxd4,Nxd4,Bb4+,Nc3,Bxc3+,bxc3,Qxd5,Qa4+,Bd7,Qb3,Nf6,Qxd5,Nxd5,Bd2,O-O,Bc4,Nf6,O-O,Nc6,Nxc6,Bxc6,f3,Rad8,Rad1,Rd6,Bb3,Rfd8,Bc1,Bd5,c4,Bxc4', 'Rxd6,Rxd6,Bxc4', 'https://lichess.org/training/DRuAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('drUeX', 'Rapid', 'Namezaki', 1676, 'aoa1', 1652, 'd4,Nf6,c4,e6,Nf3,d5,e3,c5,cxd5,exd5,Be2,Nc6,O-O,Be7,Nbd2,O-O,a3,h6,Qc2,b6,b3,Bg4,dxc5,bxc5,Bb2,Bh5,Rfe1,Rc8,Qf5,Bg6,Qf4,Nd7,Bb5,Qa5,a4,a6,Bxc6,Rxc6,Nf1,Bd6,Qg4,Rd8,Nh4,Ne5,Bxe5,Bxe5,Rac1,Bc2,Nf5,Bxb3', 'Ne7+,Kf8,Nxc6', 'https://lichess.org/training/drUeX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DrVkI', 'Rapid', 'Markus_Strange', 1956, 'Giolumi', 1965, 'e4,g6,d4,Bg7,f4,c5,c3,cxd4,cxd4,d6,Nf3,Nf6,Nc3,Nc6,Bc4,Qb6,e5,Nd7,Nd5,Qd8,O-O,Nb6,Nxb6,Qxb6,Kh1,Bg4,Bxf7+,Kf8,Bb3,Bxf3,Rxf3,Qxd4,Qf1,Ke8,Be3,Qb4,Rd1,dxe5,fxe5,Bxe5,Bf7+,Kf8,Bxg6+,Kg7,Bh5,Qh4,Rg3+,Bxg3', 'Qf7#', 'https://lichess.org/training/DrVkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DrvWk', 'Rapid', 'UpDogg', 1665, 'enakk', 1661, 'e4,c5,Nf3,e6,Nc3,d6,d4,cxd4,Nxd4,Nf6,f3,a6,Be3,b5,Qd2,Be7,O-O-O,O-O,g4,Qc7,a3,Bb7,h4,Nbd7,h5,d5,g5,Ne8,g6,h6,Bxh6,gxh6,Qxh6,Nef6,g7,Nh7,gxf8=Q+,Ndxf8,exd5', 'Bg5+,Qxg5+,Nxg5', 'https://lichess.org/training/DrvWk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DrwYK', 'Rapid', 'FigueiredoMate27', 1691, 'Lcroc', 1681, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Nc6,Be2,e6,O-O,Qc7,f4,Be7,Qd2,O-O,f5,e5,Nf3,b5,Nd5,Qd8,Nxe7+,Qxe7,Bd3,Bb7,Rfe1,d5,Bg5,dxe4,Bxe4,Rad8,Qe3,h6,Bh4,Na5,Bxb7,Nxb7,Nxe5,Qc5,Qxc5,Nxc5,Bxf6,gxf6,Ng4,Kg7,Re7,Rd2,Ne3,Rfd8,Rf1,Kf8,Ra7,Re8,Rf3,Re2,Ng4,Re1+,Kf2,R1e2+,Kg3,Ne4+,Kh4,Ng5,Rg3,Rxc2,Nxh6,Ree2,Kh5,Rxg2,Ra8+,Ke7,Re3+,Kd6,Rd8+', 'Kc7,Rd4,Rxh2+', 'https://lichess.org/training/DrwYK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dRXa9', 'Rapid', 'planningnotplans', 1699, 'cutegirl98', 1699, 'e4,Nf6,e5,Nd5,c4,Nb6,a4,d6,a5,N6d7,exd6,cxd6,b4,g6,Bb2,Nf6,Bxf6,exf6,Nf3,Bg7,Ra3,O-O,Be2,Nc6,b5,Nxa5,O-O,Be6,Qa4,b6,Nd4,Re8,Nc6,Qc7,Nxa5,bxa5,Qxa5,Qxa5,Rxa5,Bf5,Nc3,Be6,Bf3,Bxc4,Bxa8,Bxf1,Kxf1,Rxa8,b6,a6,Nd5,f5,Nc7,Rb8,Rxa6,Rb7,Ra8+,Bf8,Nd5,Kg7,Ra7,Rb8,Ra1,Kh6,Nf6,Bg7,Nd7,Rb7', 'Ra7,Rxb6,Nxb6', 'https://lichess.org/training/dRXa9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Drxfc', 'Rapid', 'JVallejos', 1821, 'ublo', 1844, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nf3,h6,Be3,Be6,Qd2,Be7,O-O-O,Nc6,h3,Rc8,g4,b5,g5,hxg5,Nxg5,b4,Nxe6,fxe6,Ne2,Qa5,Kb1,d5,exd5,exd5,Nc1,e4,Be2,O-O,Rhg1,Rcd8,Bh6,Rf7,Bg5,d4,Bc4,Ne5,Bxf7+,Kxf7,Bxf6,Bxf6,Qe2,d3,cxd3,exd3,Nxd3,Nxd3,Rxd3,Rxd3,Qxd3,Qe5,Qb3+,Kf8,Qxb4+,Kg8,Re1,Qf5+,Qe4,Qxf2,Qe6+,Kh7,Qe4+,Kh8,Qe8+,Kh7,Qe4+,g6,Qe2,Qf5+,Ka1,a5,a3,Qxh3,Qa6', 'Qxa3+,Kb1,Qxb2#', 'https://lichess.org/training/Drxfc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DrYR3', 'Rapid', 'Ryan1', 1698, 'quandokomekikeriki', 1615, 'e3,e6,d4,c5,Nf3,d5,Bb5+,Nc6,c3,Bd7,Bxc6,Bxc6,Ne5,Bb5,a4,Ba6,Qf3,Nf6,Bd2,Bd6,Qg3,Ne4,Qxg7,Bxe5,dxe5,Qh4,g3,Qh5,g4,Qh4,Qxh8+,Kd7,Qxa8,Qxf2+,Kd1,Qf3+,Kc2,Qxh1,Qf8,Qf1,Na3,Bd3+,Kb3,Nxd2+,Ka2,Bc4+,Nxc4', 'Qxc4+,b3,Qxb3#', 'https://lichess.org/training/DrYR3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DrZhF', 'Rapid', 'monokarbon', 1627, 'khosi4030', 1611, 'd4,d5,c4,dxc4,Nc3,Nf6,e3,Bf5,Bxc4,a6,e4,Bg6,Bd3,Qxd4', 'Bb5+,Qd7,Bxd7+', 'https://lichess.org/training/DrZhF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DrZnF', 'Blitz', 'Jagga1999', 1767, 'Moemedi', 1765, 'c4,e6,e3,d5,cxd5,exd5,Nc3,Nc6,d4,Bd6,Nge2,Nf6,g3,h5,Bg2,h4,Bd2,h3,Bxd5,O-O,e4,Be7,Bxc6,bxc6,e5,Nd5,Qc2,g6,Ne4,Qd7,Nf4,Nxf4,gxf4,Qxd4,O-O-O,Bf5,Rde1,Rab8,Bc3,Qd5,Rhg1,Qxa2,Nf6+,Kh8,Rg3,Bxc2', 'Rxh3+,Kg7,Rh7#', 'https://lichess.org/training/DrZnF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ds0Gf', 'Rapid', 'ssaaeed', 2168, 'ELMULLA', 2005, 'e4,c5,d4,cxd4,c3,d3,Bxd3,Nc6,Bc4,e6,Nf3,Bc5,O-O,Qc7,Qe2,Nge7,Ng5,O-O,g3,h6,Nf3,b5,Bxb5,Bb7,a4,f5,Nh4,fxe4,Qxe4,Nd4,Qd3,Nxb5,axb5,Qe5,Nd2,Rxf2,Rxf2', 'Qe1+,Qf1,Bxf2#', 'https://lichess.org/training/Ds0Gf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DS0WM', 'Rapid', 'Cynis001', 1835, 'riad1372', 1927, 'c4,c5,Nc3,b6,g3,Bb7,Nf3,Nc6,e3,Nb4,a3', 'Bxf3,Qxf3,Nc2+,Kd1,Nxa1', 'https://lichess.org/training/DS0WM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ds2dk', 'Blitz', 'Londonchileno', 1783, 'DylanStark20', 1855, 'e4,e5,f4,Bc5,Nf3,d6,Bc4,Nc6,c3,Nf6,d4,exd4,cxd4,Bb6,Nc3,O-O,O-O,Re8,e5,dxe5,fxe5,Nxe5,Nxe5,Bxd4+,Kh1,Bxe5,Qb3,Rf8,Bg5,h6,Bh4,Qd4,Bxf6,Bxf6,Nd5,Be5,Ne7+,Kh8,Bxf7,Rxf7,Qxf7,Qxb2,Rad1,Bg4,Rde1,Bf6,Ng6+,Kh7,Nf8+,Kh8,Re8,Qb5,Ng6+,Kh7,Rfe1', 'Rxe8,Qxe8,Qxe8,Rxe8,Kxg6', 'https://lichess.org/training/ds2dk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DS7B7', 'Rapid', 'lukaszo_majewski', 1904, 'MARCELO7', 1863, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,c6,Nf3,Nf6,d4,g6,Be3,Bg7,Qd2,O-O,Bh6,b5,h4,Ng4,Bxg7,Kxg7,h5,Nh6,hxg6,Qxg6,Ne5,Qf6,Ne4,Qe6,Qg5+,Kh8,Rxh6,Qf5,Qxe7,Nd7,Nxd7,Bxd7,Nf6,Rae8,Nxe8,Rxe8,Qh4,Qxc2,Qh5,Bf5,Qf3,Kg7,Rh4,Kh8,d5,cxd5,Qc3+,Qxc3+,bxc3,Bd3,Rf4,Rxe2+,Kd1,Re7,Kd2,Bc4,a4,Re2+,Kd1,a6,axb5,Bxb5,Rf5,Kg7,Rf4,Re5,g3,f5,Kc2,Re2+,Kb3,Kg6,Rh1,Bc4+,Kb4,Rb2+,Kc5,Rb5+,Kc6,d4,Rxd4,Be2,Rd6+,Kg5,Rxh7', 'Bf3+,Kd7,Rb7+,Kd8,Rxh7', 'https://lichess.org/training/DS7B7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dS7ig', 'Rapid', 'LisaNice', 2048, 'turo_benite', 1991, 'c4,e6,Nc3,d5,d4,c6,e3,Nf6,a3,Be7,Nf3,O-O,cxd5,exd5,Qc2,h6,Bd3,Bd6,O-O,Bg4,Ne5,Re8,Nxg4,Nxg4,h3,Nf6,b4,Bc7,Qb3,Qd6,g3,Nh5,Ne2,Qe6,Kg2,g5,g4,Nf6,f4,gxf4,Nxf4,Bxf4,Rxf4,Ne4,Qc2,Qg6,Bd2,Nd7,Raf1,f6,Rf5,Kg7,Be1,Re6,Kh2,Rh8,Rg1,Kf7,Qg2,Ng5,Rxd5,Qxd3,Rxd7+,Re7,Rxe7+,Kxe7,Bg3,Qxe3', 'Re1,Qxe1,Bxe1', 'https://lichess.org/training/dS7ig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dS8Ng', 'Rapid', 'mat_hkb', 1645, 'mourad17', 1684, 'e4,Nc6,Nc3,e5,Nf3,h6,Bb5,Nge7,O-O,a6,Ba4,Ng6,d3,Nd4,Nxd4,exd4,Ne2,Bc5,c3,Qf6,cxd4,Bxd4,Nxd4,Qxd4,Qc2,c6,Be3,Qb4,Bd2,Qd6,Bc3,f6,Bb3,Nf4,Qd2,Ne6,Qe3,Nc7,e5,fxe5,Bxe5,Qg6,Bxc7+,Kf8,Qf4+,Qf6,Bd6+,Ke8,Qe4+,Kd8,Rae1,Qxd6,Qh4+,g5,Qh5,b6,Bf7,Kc7,Re3,Bb7,Rfe1,Raf8,Re7,Bc8,h3,Rh7,R1e6,Qxd3,Rxh6,Rfh8,Rxh7,Rxh7,Qxg5,Qd1+,Kh2,Qd6+,Qe5', 'Qxe5+,Rxe5,Rxf7', 'https://lichess.org/training/dS8Ng');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ds8XG', 'Rapid', 'leroma84', 1695, 'AdskiyDrochila', 1666, 'Nf3,d5,d4,Nc6,h3,Nf6,e3,e6,a3,g6,Nc3,Bg7,Be2,O-O,O-O,Qe7,Bd2,Ne4,Be1,Nxc3,Bxc3,e5,dxe5,Nxe5,Qxd5,Nxf3+,Bxf3,c6,Qc4,Bd7,Bb4,c5,Bxc5,Qe6,Bxf8', 'Qxc4,Bxg7,Kxg7', 'https://lichess.org/training/Ds8XG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ds9wI', 'Classical', 'kj25', 1834, 'squatchy', 1838, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Be7,Bg5,Nbd7,e3,b6,cxd5,exd5,Rc1,Bb7,Bd3,Rc8,Qa4,a6,O-O,O-O,Bf5,b5,Qc2,g6,Bd3,c5,dxc5,Nxc5,Rfd1,Nfe4,Bxe7,Qxe7,Bf1,Rfd8,Qb1,Qe6,Nd4,Qf6,f3,Nxc3,Rxc3,Ne6,Qc2,Nxd4,Rxd4,Rxc3,Qxc3,Rc8,Qd2,Qc6,Rxd5', 'Qxd5,Qxd5,Bxd5', 'https://lichess.org/training/Ds9wI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dSAbL', 'Rapid', 'jaybardhansharma', 1640, 'CheckMateLockDown', 1864, 'Nf3,d5,g3,Nf6,Bg2,c5,d4,e6,O-O,Nc6,c4,dxc4,Qa4,cxd4,Qxc4,e5,Na3,Bxa3,bxa3,O-O,Rb1,Be6,Qc5,Ne4,Qc2,Nd6,Nd2,Rc8,Ne4,Nxe4,Qxe4,Qd7,Rb2,Bf5,Qh4,h6,h3,Qe6,g4,g5', 'gxf5,gxh4,fxe6', 'https://lichess.org/training/dSAbL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dSAib', 'Bullet', 'Tigran78', 1957, 'Mattkatastrophe', 1977, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Be7,Nd5,Nf6,Nxf6+,Bxf6,c3,O-O,Be2,Be6,O-O,d5,exd5,Bxd5,Nc2,Bg5,Bxg5,Qxg5,Qxd5,Rad8,Qf3,e4,Qg3,Qd2,Bd1,Rd3,Qc7,Rfd8,Ne3,Qxb2,Bb3,Qxc3,Qxf7+,Kh8,h3,Nd4,Nf5,Ne2+,Kh1', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/dSAib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DSBke', 'Rapid', 'seppipeppi65', 1672, 'genisineg', 1647, 'g3,c5,Bg2,e6,d3,d5,f4,Nf6,Nf3,Bd6,O-O,O-O,Be3,Nc6,c3,e5,fxe5,Bxe5,Nxe5,Nxe5,Bf4,Re8,d4,cxd4,cxd4,Nc4,Bg5,Qb6,b3,Ne3,Bxe3,Rxe3,Qd2,Qe6,Nc3,Bd7,Rae1,Rc8,Nxd5,Nxd5,Bxd5,Qh6,Bxf7+,Kh8,Bc4', 'Rxg3+,hxg3,Qxd2', 'https://lichess.org/training/DSBke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dSc3O', 'Classical', 'ERM89', 1707, 'Pocket337Br', 1681, 'e4,c5,Nf3,Nc6,Bc4,e6,Bb5,Nd4,Nxd4,cxd4,d3,a6,Ba4,b5,Bb3,Bb7,O-O,d5,exd5,Bxd5,Bxd5,Qxd5,b3,Nf6,c4,dxc3,Nxc3,Qd4,Bb2,O-O-O,Rc1,Kb8,a4,b4,Re1,bxc3,Bxc3,Qxd3', 'Be5+,Ka8,Rc8+,Rxc8,Qxd3', 'https://lichess.org/training/dSc3O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DsCMI', 'Classical', 'MeteYogunali28', 2100, 'Ace_Rothstein', 2068, 'd4,e6,Nf3,d5,Bf4,Nf6,e3,Be7,Bd3,c5,c3,Nc6,Nbd2,Qb6,Rb1,Bd7,h3,h6,O-O,O-O,Ne5,cxd4,exd4,Nxe5,dxe5,Nh7,Qg4,f5,exf6,Nxf6,Qg3', 'Nh5,Bc7,Nxg3', 'https://lichess.org/training/DsCMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DsCoE', 'Blitz', 'NomerA', 1835, 'BelligerentDrunk', 2002, 'd3,e6,e4,d5,Nc3,dxe4,Bd2,exd3,Bxd3,Nf6,Nf3,Be7,O-O,c5,Qe2,Nc6,b3,O-O,Rad1,h6,Rfe1,a6,Ne4,Qc7,Nxf6+,Bxf6,Qe4,g6,Bxh6,Bg7,Bxg7,Kxg7,Ne5,Nxe5,Qxe5+,Qxe5,Rxe5,b6,c4,Bb7,Be4,Bxe4,Rxe4,Rad8,Ree1,Kf6,f3,Ke7,Kf2,Rxd1,Rxd1,Rh8,h3,Rd8,Re1,Rd2+,Re2,Rxe2+,Kxe2,b5,Ke3,Kf6,g3,Ke5,a3,f5,f4+,Kd6,a4,Kc6,g4,bxa4,bxa4,Kb6,Kf3,Ka5,h4,fxg4+,Kxg4,Kxa4', 'Kg5,Kb4,Kxg6,Kxc4,h5', 'https://lichess.org/training/DsCoE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dscRz', 'Classical', 'imanemami1389', 1631, 'Raj99866', 1611, 'e4,e5,Nf3,Nc6,c3,b5,d4,d5,Nbd2,Be7,h4,Nf6,Bd3,O-O,Nxe5,dxe4,Nxe4,Bb7,Nxf6+,Bxf6,Bxb5,Re8,f4,a6,Bd3,Na5,O-O,Re7,b3,Qd5,Rf2,Bxh4,Rc2,f6,Nc4', 'Re1+,Qxe1,Bxe1', 'https://lichess.org/training/dscRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DSD6m', 'Rapid', 'freehumanity', 2096, 'jonnycapov', 1858, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Bc4,a6,Nf3,b5,Bd5,c6,Be4,Nf6,Bd3,c5,Ne4,Qc7,Nxf6+,exf6,Be4,Bb7,Qe2,Be7,d3,O-O,Bf4,Qc8,O-O,Re8,Rfe1,Nd7,Bxb7,Qxb7,Qe4,Qc8,a4,b4,a5,Bd6', 'Qxe8+,Qxe8,Rxe8+,Rxe8,Bxd6', 'https://lichess.org/training/DSD6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dSDOK', 'Rapid', 'Yamaarashi', 2013, 'NazarBerkimbay', 1774, 'e4,Nf6,e5,Nd5,Nf3,d6,h3,Nc6,c4,Nb6,d4,dxe5,d5,Nd4,Nxd4,exd4,Qxd4,Bf5,Nc3,e6,g4,Bg6,Bg2,exd5,c5,Qe7+,Be3,Nc4,Nxd5,Nxe3,Nxe7', 'Nc2+,Kf1,Nxd4', 'https://lichess.org/training/dSDOK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dSe8s', 'Classical', 'bilbo07', 1729, 'MAGAMEDOV', 1786, 'e4,b6,Bc4,Bb7,Nc3,e6,Nf3,g6,d3,Nc6,h4,Na5,Ne5,Bg7,Ng4,Nxc4,dxc4,Nf6,Bg5,h6,Nxf6+,Bxf6,Bxf6,Qxf6,Qd3,a6,O-O-O,O-O-O,g3,Rhf8,Rhf1,g5,hxg5,hxg5,f4,gxf4,Rxf4,Qg5,e5,f6,Ne4,Bxe4,Qxe4,c6,Qd4,Kb7,exf6', 'e5,Qe3,exf4', 'https://lichess.org/training/dSe8s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DseW3', 'Rapid', 'AntonyP', 1859, 'moimoibubu', 1966, 'e4,e5,Nf3,Nc6,c3,Be7,d4,exd4,cxd4,d5,e5,Bg4,h3,Bxf3,gxf3,Bb4+,Nc3,Qh4,Bb5,Ne7,Be3,O-O,Qe2,a6,Bd3,Nxd4,Bxd4,Qxd4,O-O-O,Bxc3', 'Bxh7+,Kxh7,Rxd4,Bxd4,Qd3+,Kg8,Qxd4', 'https://lichess.org/training/DseW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DSFq0', 'Rapid', 'Tsibisov', 2290, 'shifer58', 2282, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Nxc3,bxc3,d5,cxb4,dxc4,Re1+,Ne7,Qe2,f6,Qxc4,c6,Bf4,Bg4,Qc5,Kf7,Nd2,Nd5,Bg3,Re8,Nc4,Kg8,Nd6,Re7,Rxe7,Qxe7,f3,Qe3+,Bf2,Qe6,fxg4,b6,Qxc6,Rd8,Bg3,Nxb4,Qc4,Qxc4,Nxc4,Rxd4,Ne3,Rd2,a3,Nd3,Nc4,Rc2,Rd1,Nc1,Rd8+,Kf7,Nd6+,Ke7,Re8+,Kd7,Rg8,Ne2+,Kf2,Nxg3+,Kxg3,Kxd6,Rxg7,Rc3+,Kh4,Rxa3,Rxh7,b5,Rf7,Ke6,Rb7,a6,g5,fxg5+,Kxg5,Ra2,Rb6+,Ke5,g4,Rxh2,Rxa6,Kd4,Rb6,Kc4,Kf6', 'Rh6+,Kf7,Rxb6', 'https://lichess.org/training/DSFq0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DSgEt', 'Rapid', 'JamesJ', 1697, 'Kurapicaa', 1675, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,Be7,d4,exd4,Nxd4,Nf6,Bb5,Bd7,Bxc6,bxc6,Nc3,O-O,Bf4,Re8,O-O,Bf8,Re1,Bc8,Bg5,Bb7,Nb3,a5,Nd2,h6,Bh4,g6,a3,Bg7,Rb1,Qd7,Qf3,g5,Bg3,c5,Nd5,Nxd5,exd5,Rad8,Rxe8+,Rxe8,c4,Bc8,Nb3,Qa4,Qd3,Ba6,Nd2,c6,Bxd6,cxd5,Qxd5,Rd8,Qxc5,Qc2,Qc7,Rc8,Qxa5,Bxc4,Bb4,Bd3,Qa7,Qc6,Re1,Qd5,Nf3,Be4,Qe3,Re8,Kf1', 'Bd3+,Kg1,Rxe3', 'https://lichess.org/training/DSgEt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DsGG4', 'Rapid', 'billdee', 1658, 'makitas', 1646, 'd4,e5,e4,exd4,Qxd4,Nc6,Qa4,d6,Nf3,Bd7,Qb3,b6,Bc4,Qe7,O-O,Na5,Qd3,Nxc4,Qxc4,Nf6,Bg5,Be6', 'Qc6+,Qd7,Qxa8+', 'https://lichess.org/training/DsGG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dsi8I', 'Blitz', 'bayad2016', 2452, 'FM Number_1734', 2533, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,g6,Nc3,Bxa6,Nf3,d6,e4,Bxf1,Kxf1,Nbd7,g3,Bg7,Kg2,O-O,a4,Qb8,Qc2,Qb7,Bd2,Rfb8,Rhb1,Qb3,Qd3,Ng4,Ra3,Qb7,Qc2,Nge5,Nxe5,Nxe5,Nb5,f5,f3,Rf8,Bc3,fxe4,fxe4,Nc4,Bxg7,Nxa3,bxa3,Kxg7,Nd4,Qa6,Ne6+,Kg8,Nxf8,Rxf8,Rb5,Ra8,Qb3,Qxa4,Rb8+,Kg7,Qc3+,Kh6,Qe3+,Kg7,Qc3+,Kh6,Qe3+,g5', 'h4,Qxe4+,Qxe4', 'https://lichess.org/training/dsi8I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DSK42', 'Rapid', 'AB_113', 1704, 'Kuzya_s', 1677, 'e4,c5,b3,d6,Bb2,e6,Nf3,Nf6,Nc3,Be7,d4,cxd4,Nxd4,a6,Be2,Nc6,O-O,Qb6,Nxc6,bxc6,a4,c5,a5,Qd8,Re1,O-O,Bc4,Bb7,e5,dxe5,Qxd8,Rfxd8,Rxe5,Ng4,Ree1,Bd6,h3,Nf6,Ba3,Nd7,Na4,Rac8,Rad1,Ne5,Bf1,Ng6,Nxc5,Bxc5,Rxd8+,Rxd8,Bxc5,Rd2,Bd3,Nf4,Re3,Nxg2,Rg3,Nf4,Be3', 'Rd1+,Bf1,Ne2+', 'https://lichess.org/training/DSK42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dskES', 'Rapid', 'Midknight55', 2183, 'AyiBP01', 2116, 'c4,c6,Nc3,d6,g3,a6,Bg2,h6,Nf3,e5,O-O,Bg4,d4,Qc7,h3,Bxf3,Bxf3,Nd7,e4,Ngf6,Be3,Be7,Rc1,O-O,b4,Rfd8,d5,Rac8,c5,dxc5,bxc5,Bxc5,Bxc5,Nxc5,dxc6,Rxd1,Rfxd1,Qxc6,Nd5,Qa4,Ne7+,Kh7,Nxc8,Ng8,Nd6,Ne6,Nxf7,Nd4,Nxe5,Nxf3+,Nxf3,Qxe4,Nd2,Qe6,Nc4,Qxh3,Ne3,Nf6,Rd4,Qh5,Rh4,Qf3,Rf4,Qe2,Rc7,Nh5,Rff7,Kg6,Nd5', 'Qd1+,Kh2,Qxd5', 'https://lichess.org/training/dskES');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DSKZb', 'Rapid', 'Jed_Adji', 1725, 'serhio911', 1859, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bb4,Bb5,Bxc3+,bxc3,Nf6,Qd3,O-O,Bxc6,dxc6,O-O,e5,Bg5,exd4,Bxf6,Qxf6,cxd4,Be6,c3,Qg5,f4,Qa5,f5,Bd7,Rf3,f6,Rh3,Rad8,Qc4+,Kh8,Rf1,c5,Rff3,Bb5', 'Rxh7+,Kxh7,Rh3#', 'https://lichess.org/training/DSKZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DsLB7', 'Blitz', 'amirmahmod', 1854, 'Godnya', 1851, 'e4,Nf6,Nc3,e5,Nf3,d6,Bc4,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Be6,O-O,Be7,Bd3,c5,Bb5+,Kf8,Qd1,a6,Be2,b5,Bg5,b4,Bxf6,Bxf6,Nd5,Bxd5,Qxd5,Bxb2,Rad1,Ke7,Bc4,Rf8,Rd3,Qb6,Rf3,Bf6,Re1,Rae8,Rd1,Rd8,g4,h6,h4,g5,hxg5,hxg5,Qf5,d5,exd5,Rd6,Re1+,Kd8,Qd3,Re8,Rxe8+,Kxe8,Qf5,Kd8,Qh7,Qc7,Qg8+,Ke7,Re3+,Kd7,Qxf7+,Kc8,Qe8+,Kb7,Qa4,Bd4,Re8,Qf7,Bxa6+', 'Rxa6,Qb5+,Rb6,Rb8+,Kxb8', 'https://lichess.org/training/DsLB7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dslSk', 'Classical', 'Sushant1999', 1810, 'TimesIt', 1619, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,a3,Nd7,h3,Bh5,Be2,c5,c3,cxd4,cxd4,Ne7,O-O,Nc6,Re1,Qb6,b4,Bxf3,Bxf3,Qxd4,Nc3,Qxc3,Bd2,Qd4,Rc1,Ndxe5,Be2,Bd6,Bb5,O-O,Bxc6,Nxc6,b5,Ne5,Re3,Rac8,Rxc8,Rxc8,Rg3,Nc4,Rxg7+,Kf8,Qh5,Qxg7,Bh6,Be5,Bxg7+,Bxg7,Qxh7,Nxa3,Qd3,Rc3,Qe2,b6,h4,Rc1+,Kh2,Rb1,Qa2,Ra1,Qb3,Nc4,h5,Rf1,Qa2,Ne5,Qxa7,Ng4+,Kg3,Nxf2,Qxb6,Be5+,Kf3,Ne4+,Ke2,Rf2+,Kd3,Rd2+,Ke3,Bg3,Qd8+,Kg7,b6,Bf2+,Kf4,Bg3+,Kg4,Rxg2,Kf3,Rb2,h6+,Kxh6', 'Qh8+,Kg6,Qxb2', 'https://lichess.org/training/dslSk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dSMoL', 'Classical', 'josue2210', 1753, 'lexotan27', 1741, 'c4,e5,Nc3,Bb4,Nf3,Bxc3,bxc3,d6,d3,Nf6,g3,Bg4,Bg2,O-O,O-O,e4,Nd2,exd3,f3,dxe2,Qxe2,Re8,Qd3,Bh5,Rb1,Bg6,Ne4,Nxe4,fxe4,c6,Rxb7,Nd7,Be3,Ne5,Qe2,Qc8,Rxa7,Rxa7,Bxa7,c5,Rb1,h6,Bb6,Qa6,Bc7,Qa3,Bxd6,Qxc3,Bxc5,Nxc4,Re1,Ne5,Bf2,Nd3,Rf1,Nc1,Qf3,Qc2,a3,Bxe4,Qd1', 'Ne2+,Qxe2,Qxe2', 'https://lichess.org/training/dSMoL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dSmXg', 'Classical', 'Kryyc', 1661, 'Vo82va', 1723, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,c3,dxc3,Nxc3,Bb4,Bd2,O-O,O-O,d6,Re1,Bg4,h3,Bh5,a3,Bc5,Bg5,Bd4,Qd2,Qd7,Nxd4,Nxd4,Qxd4,c5,Qd3,Kh8,Bxf6,gxf6,Rad1,Bxd1,Rxd1,Qe7,Nd5,Qe5,f4,Qxb2,Rb1,Qd4+,Qxd4,cxd4,Rxb7,Rac8,Rc7', 'Rxc7,Nxc7,Rc8,Nb5,Rxc4', 'https://lichess.org/training/dSmXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DSN8t', 'Blitz', 'kaliban', 2034, 'WIM Boudicca64', 2125, 'e4,d5,Nc3,d4,Nce2,c5,Nf3,Nc6,Ng3,e5,Bc4,g6,O-O,Bg7,d3,h6,h3,Nge7,Nh2,O-O,Ng4,Kh7,Qd2,h5,Nh2,h4,Ne2,f5,exf5,Nxf5,Qg5,Bf6,Qd2,Bd7,Ng4,Bg7,Qg5,Qxg5,Bxg5,Rae8,Bd5,Be6,Be4,Nb4,f4,Nxc2,Rac1,Nce3,Nxe3,Nxe3,Rf3,exf4,Rxc5,Rc8,Rxc8,Rxc8,Nxf4,Bxa2,Nxg6,Rc2,Nxh4+,Kg8,Ng6', 'Rxg2+,Kh1,Rxg5', 'https://lichess.org/training/DSN8t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DSnWf', 'Rapid', 'Fran_ADK', 1965, 'Bijoy9', 1920, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be6,Be3,d5,exd5,Nxd5,Nxd5,Qxd5,Qxd5,Bxd5,O-O-O,Bxb3,axb3,Be7,Bc4,O-O,h4,a5,h5,a4,Kb1,a3,h6,g6,Rhe1,Bf6,Bc5,axb2,Bxf8,e4,c3,Bxc3,Rxe4', 'Ra1+,Kc2,Rxd1,Kxc3,b1=Q', 'https://lichess.org/training/DSnWf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dsqpp', 'Rapid', 'terencetao', 1864, 'ilmiy', 1803, 'a3,e5,d4,Nc6,dxe5,Nxe5,Nf3,Nxf3+,exf3,Bc5,b4,Bb6,Bb2,f6,Bc4,Ne7,O-O,c6,Nd2,d5,Bd3,Qd6,c4,Bc7,g3,Be6,c5,Qd7,Re1,O-O,Qc2,f5,f4,Rf7,Nf3,h6,Re2,Ng6,Rae1,Re8,Nd4,Nf8,Nxe6,Rxe6,Bxf5,Rxe2,Rxe2,Qxf5,Qc3,Ne6,f3,d4,Qb3,Nxf4,gxf4,Qxf4,Qd3,Qxf3', 'Re8+,Rf8,Qxf3', 'https://lichess.org/training/dsqpp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DSR29', 'Rapid', 'thibault0507', 1873, 'Echium', 1900, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,O-O,a6,Bc4,e5,Qf3,Nf6,Nxc6,Bxc6,Nc3,Be7,Bg5,O-O,Rfe1,Qc7,Bxf6,Bxf6,Bd5,Rac8,Rac1,b5,Bxc6,Qxc6,Nd5,Bg5,h3,f5,a3,fxe4,Qxe4,Bxc1', 'Ne7+,Kh8,Nxc6', 'https://lichess.org/training/DSR29');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dssdJ', 'Rapid', 'MrLucky31', 2147, 'Axveth', 2218, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qd2,dxc6,Nc3,Ne7,Bd3,O-O,Qf4,Qd6,e5,Qe6,O-O,Ng6,Bxg6,fxg6,Qe4,Bd7,Be3,Bxe3,Qxe3,Rf5,Rfe1,Raf8,f3,b6,Rad1,c5,a3,Bc6,Rd2,h6,Rde2,Rxf3,Qd2,Qg4,Nd5,R3f7,e6,Bxd5,exf7+,Bxf7,Re7,Qf5,Rf1', 'Qxf1+,Kxf1,Bc4+,Ke1,Rf1#', 'https://lichess.org/training/dssdJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DSsGG', 'Rapid', 'Laierman', 1813, 'H3paJ', 1980, 'd4,d5,c3,c5,e4,dxe4,Nd2,e3,fxe3,e6,Ngf3,cxd4,exd4,Nf6,Be2,Be7,O-O,O-O,Qc2,Nc6,Nc4,b6,Be3,Bb7,Rad1,Ng4,Nfe5,Nxe3,Nxe3,Nxe5,dxe5,Qc7,Bd3,g6,Ng4,Kh8,Be4,Bc5+,Kh1,Rfd8,Bxb7,Qxb7,Qc1,Rxd1,Rxd1,Qe4,h3,Bf8,Rf1,h5,Rf4,Qb7,Qf1,Kg7,Nf6,Rd8,Rd4,Rxd4,cxd4,Qc6,a3,a5,Qe1,Qc2,Qg3,Qd1+,Kh2,Be7,Ne8+,Kf8,Nc7,Qxd4,Nb5,Qd7,a4,h4,Qf4,Qd5,Qh6+,Ke8', 'Nc7+,Kd7,Nxd5', 'https://lichess.org/training/DSsGG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DsSNL', 'Blitz', 'GM Night-King96', 2792, 'IM MeneerMandje', 2671, 'd4,d5,Nc3,g6,Bf4,a6,e3,Bg7,h4,h5,Nf3,Nf6,Ng5,Nc6,Bd3,Bg4,f3,Bd7,Qe2,b5,O-O-O,b4,Na4,Nxd4,exd4,Bxa4,Bxg6,fxg6,Ne6,Qd7,Nxg7+,Kf7,Rhe1,Kxg7,Qxe7+,Qxe7,Rxe7+,Kg8,Be5,Rf8,Re6,Kg7,g4,hxg4,fxg4,Bd7,Rxf6,Rxf6,g5,Kf7,Bxf6,Rxh4,Re1,Re4,Rh1,Bf5,Rh7+,Kg8,Rxc7,Re2,b3,a5,Rg7+,Kf8,Rc7,Ke8,Rc5,Kf7,Bd8,Be4,Bxa5,Rg2,Bxb4,Rxg5,a4,Rh5,a5,Rh8,Rc7+,Ke6,a6,Ra8,a7,g5,Kd2,g4,Rg7,g3,Bc5,g2,c3,Kf6,Rg3,Kf5,Ke3,Rh8,b4', 'Rh3,Rxh3,g1=Q+', 'https://lichess.org/training/DsSNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dSsNX', 'Blitz', 'rocksoft', 2107, 'ViennaWaits', 2099, 'e4,c6,d4,d5,e5,Bf5,Ne2,e6,Ng3,Bg6,c4,Bb4+,Nc3,Bxc3+,bxc3,Nd7,cxd5,cxd5,Bb5,Rc8,Bd2,a6,Ba4,b5,Bb3,Nb6,O-O,Nc4,Be1,Ne7,f4,Nb2,Qf3,Nf5,Nxf5,Bxf5,g4,Be4,Qh3,Nd3,Bd2,b4,cxb4,Qb6,Be3,Rc3,f5,Qxb4,fxe6,fxe6,g5,Rf8,Qxe6+,Qe7,Ba4+,Kd8,Qb6+,Rc7,Qb8+,Rc8,Rxf8+,Qxf8,Qb6+,Rc7,g6,h6,Rf1,Qb4,Qxb4,Nxb4,Bxh6,Bxg6,Bg5+,Kc8,Rf8+,Kb7,Bb3,Be4,a3,Nd3,Rg8,Nc1,Bd1,Nd3,Bg4,a5,h4,Rc2,Rxg7+,Kb6,Bd8+,Kb5,Bd7+,Kc4,Bxa5', 'Rc1+,Kh2,Rh1+,Kg3,Rg1+', 'https://lichess.org/training/dSsNX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dStLH', 'Blitz', 'FM M-DeVerdier', 2514, 'chadi_chess', 2418, 'e4,d6,d4,Nf6,Nc3,g6,Bf4,c6,Qd2,Qa5,Bd3,Nbd7,Nge2,e5,dxe5,dxe5,Bh6,Nc5,O-O,Nxd3,cxd3,Be6,Nd5,Qxd2,Nxf6+,Ke7,Bxd2,Kxf6,f4,Bc5+,Kh1,Rad8,Bc3,Ke7,Rfd1,Bg4,Rd2,Bxe2,Rxe2,Bd4,Bxd4,Rxd4,fxe5,Rxd3,Rf1,Rf8,Kg1,Ke6,Ref2,Kxe5,Rxf7,Rxf7,Rxf7,Rd1+,Kf2,Rd2+,Kf3,Rxb2,Rxh7,Rxa2,Rxb7,Ra3+,Kg4,Kxe4,Kg5,c5,Kxg6,c4,h4,c3,h5,Kd5,Rc7,Ra6+,Kf7,Rc6,Rxc6,Kxc6,h6,c2,h7,c1=Q,h8=Q,Qc4+,Kg6,Qe4+,Kf7,Qxg2', 'Qa8+,Kd6,Qxg2', 'https://lichess.org/training/dStLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DsvO0', 'Rapid', 'TwentyFour7Chess', 1903, 'Concorde4711', 1979, 'e4,c5,Nf3,e6,b4,cxb4,d4,d5,e5,Nc6,a3,f6,axb4,Bxb4+,c3,Be7,Bf4,fxe5,Nxe5,Nxe5,Bxe5,Bf6,f4,Nh6,Qh5+,Kf8,Bd3,Nf5,O-O,g6,Qh3,Kg7,g4,Nd6,f5,Bxe5', 'dxe5,Nxf5,gxf5', 'https://lichess.org/training/DsvO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dSwm8', 'Blitz', 'FM blank37', 2483, 'GM PaulfromSPb', 2524, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Nc3,d5,cxd5,Nxd5,Rc1,Nd7,O-O,Nxc3,Qxc3,Rc8,Rfe1,Nf6,Red1,Qe7,Ne5,Bxg2,Kxg2,c5,dxc5,Rxc5,Qe3,Qb7+,f3,Nd5,Qd4,Qc7,Rxc5', 'bxc5,Qd2,Qxe5', 'https://lichess.org/training/dSwm8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dSXTA', 'Classical', 'oKnow', 1605, 'iLLMATICxp', 1656, 'e4,e5,Nf3,Nc6,b3,Nf6,d3,Bb4+,Bd2,Bxd2+,Nbxd2,d6,c3,O-O,Nc4,d5,Ncxe5,Nxe5,Nxe5,dxe4,d4,Re8,Bc4,Be6,Qe2,a6,O-O,b5,Bxe6,Rxe6,Ng4,Nd5,Rac1,Qg5,f3,exf3,Qxf3,h5', 'Qxf7+,Kh7,Qxe6', 'https://lichess.org/training/dSXTA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dsY6q', 'Blitz', 'PeterArpa', 1859, 'Seppelhorst', 1637, 'd4,d5,c4,dxc4,Nf3,Nf6,e3,e6,Bxc4,a6,Nc3,b5,Be2,Bb7,O-O,c5,a3,cxd4,Nxd4,Bc5,Nb3,Bb6,Bf3,Qxd1,Rxd1,Bxf3,gxf3,O-O,Nd4,Bxd4,Rxd4,Nc6,Rd6,b4,Ne4,Ne5,Nxf6+,gxf6,f4,Nf3+,Kg2,Nh4+,Kg3,Nf5+,Kf3,Nxd6,axb4,Nc4,b3,Nd6,Bb2,Nb5', 'Rg1+,Kh8,Bxf6#', 'https://lichess.org/training/dsY6q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dsyod', 'Blitz', 'Angolano_94', 2241, 'IM quefaitlapolice123', 2332, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,Be3,Bd6,Qd2,Ne7,O-O-O,O-O,Bd3,Bf5,Nce2,a5,Kb1,a4,h3,a3,b3,Na6,g4,Bxd3,Qxd3,Nb4,Qd2,b6,f4,c5,Nf3,c4,bxc4,dxc4,c3,Nbd5,Ne5,b5,Ka1,b4,Nxc4,bxc3,Nxc3,Nxc3,Qxc3,Nd5,Qd3,Bb4,Bd2,Qf6,Ne5,Rfc8,Rc1,Qb6,Nd7,Qb7,Ne5,Bc3+,Bxc3,Rxc3,Qd2,Rac8,Rxc3,Nxc3,Rc1,Qb4,d5,Rb8,Qc2', 'Qb2+,Qxb2,axb2#', 'https://lichess.org/training/Dsyod');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dSYS6', 'Blitz', 'giannistst12', 2124, 'actuville', 1955, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,c4,Nf6,Nc3,Bg4,Be2,e6,O-O,Be7,Bf4,O-O,h3,Bh5,a3,dxc4,Be3,Nd5,Bxc4,Bf6,Ne4,Bxf3,Qxf3,Bxd4,Rad1,Bxe3,fxe3,Nce7,Nc3,Qb6,Bxd5,Nxd5,Nxd5,exd5,b4,Rae8,Qxd5,Rxe3,Kh1,Rxa3,Qd7,Qxb4,Rd4,Qb3,Rf3,Ra1+,Kh2,Qb1', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/dSYS6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DszOY', 'Classical', 'Maiyeuem1989', 1654, 'Rosbifski', 1663, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Nge7,O-O,Nf5,Na3,a6,g4,Nfe7,Bg5,Qxb2,Nc2,Qb6,Rb1,Qc7,dxc5,Ng6,Be3,Ngxe5,Nxe5,Nxe5,Bf4,f6,g5,Nf3+,Bxf3,Qxf4,gxf6,gxf6,Nd4,Rg8+,Kh1,Bxc5,Nxe6,Bxe6,Re1,Kd7,Rxb7+,Kd6', 'Rxe6+,Kxe6,Qxd5#', 'https://lichess.org/training/DszOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DT09l', 'Rapid', 'madara8000', 1876, 'silvavelosa', 1840, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,f6,Nc3,Bc5,a3,a5,Qe2,Ne7,Be3,Bxe3,Qxe3,b6,h3,Be6,Ne2,c5,b3,Nc6,c4,Nd4,Nexd4,cxd4,Qd2,c5,Qb2,Rb8,b4,cxb4,axb4,O-O,bxa5,bxa5,Qa2,Qb6,O-O,Ra8,Rfb1,Qc5,Rb5', 'Qxb5,cxb5,Bxa2', 'https://lichess.org/training/DT09l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dt120', 'Blitz', 'olavogabriel00', 1659, 'Ramonpy2', 1655, 'd4,d5,c4,dxc4,Nc3,c6,e4,b5,a4,Bd7,Nf3,e6,Be2,Bb4,O-O,Bxc3,bxc3,Nf6,Qc2,O-O,Ne5,g6,Nxd7,Qxd7,axb5,cxb5,e5,Nd5,Bf3,Nc6,Bg5,f6,exf6,Nxf6,Rfe1,Rae8,Ra6,Nb8,Ra5,a6,Rea1,e5,Rd1,exd4,Rxd4,Qc7,Ra1,Rd8,Rf4,Nfd7,Rd4,Nc6,Rdd1,Nde5,Bxc6,Rxd1+,Rxd1,Qxc6,Be3,Nd3,h3,Qf6,Ra1,Ra8,Ra3,h6,Qa2,g5,Bd4,Qf5,Rxa6,Rxa6,Qxa6,Nc1,Qa8+,Kf7,Qb7+,Kg6,Qc6+,Kf7,Qc7+,Ke6,Qc6+,Kf7,Qc7+,Ke8,Qb8+,Kd7,Qb7+,Kd8,Qb8+,Qc8,Qd6+,Qd7,Bf6+,Kc8,Qf8+,Kc7,Qc5+,Qc6,Qa7+,Kd6', 'Qe7+,Kd5,Qe5#', 'https://lichess.org/training/Dt120');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dT1B8', 'Blitz', 'FM TrenerS', 2298, 'FM muran29', 2417, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,c6,e3,Be7,Qc2,Nbd7,Bd3,O-O,Nf3,Re8,h3,Nf8,O-O-O,Ne4,Bf4,f5,Ne5,Ng6,f3,Nxc3,Qxc3,Bd6,g4,Bxe5,dxe5,Nxf4,exf4,Rf8,Qc2,Qb6,Rde1,Qd4,e6,Qxf4+,Kb1,g6,gxf5,gxf5,Rhg1+,Kh8,e7,Re8,Re4,fxe4', 'Qc3+,d4,Qxd4+,Qf6,Qxf6#', 'https://lichess.org/training/dT1B8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dt1kK', 'Rapid', 'sree63', 1793, 'akselzug', 1776, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nc6,Bb5,Bf5,d4,Ne7,Bg5,Qd6,Ne5,f6,Nxc6,Nxc6,Bh4,O-O-O,Bg3,Qd7,O-O,a6,Ba4,Bd6,Bxd6,Qxd6,Bb3,Be6,a4,Na5,Ra3,Nxb3,Rxb3,g5,Qe2,h5,Nb5,axb5,Qxb5,Qb6,Qd3,Qa6,Qg6,Rdf8,Qg7,Bf5,Re3,Rhg8,Qe7,Re8,Qf7,Be6,Qxf6,g4,Rfe1,Kd7', 'Rxe6,Qxe6,Rxe6,Rxe6,Qf7+', 'https://lichess.org/training/dt1kK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DT1lb', 'Rapid', 'Monasterie-Bas', 1895, 'mauro0108', 1821, 'e4,d6,d4,c6,Nc3,h6,f4,Nd7,Nf3,Qc7,Bd3,e5,O-O,Ngf6,fxe5,dxe5,dxe5,Nxe5,Nxe5,Qxe5,Bf4,Bc5+,Kh1,Qd4,e5,Ng4,Bg3,Ne3,Qf3,Nxf1,Rxf1,O-O,Ne4,Be6,Bf2,Qxb2,Bxc5,Bd5,Bxf8,Rxf8,Qg3,Bxe4,Bxe4,Qb5,Bd3,Qd5,a4,b5,axb5,cxb5,Ra1,Qc5,Re1,a5,Qe3,Qb4,e6,fxe6,Qxe6+,Kh8,Qe2,a4,Bxb5,a3,Rf1', 'Rxf1+,Qxf1,a2', 'https://lichess.org/training/DT1lb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dt2PZ', 'Rapid', 'Danoda', 1743, 'Huseyinfirat', 1770, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Bg4,e5,dxe5,Bxf7+,Kxf7,Nxe5+,Ke8,Nxg4,Nf6,O-O,Qd4+,Kh1,Nxg4,Qxg4,Bd6,Qe6+,Kf8', 'Qc8+,Kf7,Qxh8', 'https://lichess.org/training/Dt2PZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DT3L1', 'Rapid', 'JU5TIS5', 1709, 'day3436', 1688, 'd4,Nf6,Bf4,d6,e3,Nc6,c3,Bf5,Be2,e6,Nf3,Be7,Nbd2,h6,h3,Qd7,Nh4,Bh7,Bh2,Ne4,Nhf3,f5,O-O,O-O,Bd3,a6,Bf4,g5,Bh2,Qe8,Bc2,Qg6,Nxe4,fxe4,Nd2,d5,f4,Bd6,fxg5,Qxg5,Qe2,Bxh2+,Kxh2,Bf5,Rf4,Rf7,Nxe4,dxe4,Bxe4,Raf8,Bxf5,exf5,g4,fxg4,Qc4,Qh4', 'Rxg4+,Qxg4,hxg4', 'https://lichess.org/training/DT3L1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DT5ie', 'Rapid', 'EugenM', 1594, 'Iliskarlizan', 1571, 'd4,d5,Bf4,Nf6,c4,dxc4,Qa4+,c6,Qxc4,Be6,Qd3,b5,Nf3,Bc4,Qd2,e6,Nc3,Bb4,a3,Bxc3,Qxc3,h6,e3,Ne4,Qc2,Na6,Bxc4,bxc4,Qxe4,Qa5+,Nd2,O-O,Qxc6,Rab8,Qxc4,Rfc8,Qd3,Rxb2,e4,Rc3,Qe2,Rxa3,Rxa3', 'Rb1+,Qd1,Rxd1+,Kxd1,Qxa3', 'https://lichess.org/training/DT5ie');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dT68I', 'Rapid', 'Arkonite', 1665, 'Sarinha', 1800, 'd4,Nf6,Bf4,g6,Nc3,Nh5,Qd2,Nxf4,Qxf4,h5,e4,d6,Bc4,e6,Nf3,Bh6,Qg3,h4,Qxh4', 'Bd2+,Kxd2,Rxh4', 'https://lichess.org/training/dT68I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dT6z5', 'Rapid', 'krobbi', 1783, 'saravana2703', 1758, 'd4,d5,Bf4,e6,e3,Bb4+,c3,Bd6,Bg3,Nf6,Bd3,b6,Be5,Bxe5,dxe5,Nfd7,f4,Bb7,Qg4,g6,Nf3,Nc5,Bc2,Nbd7,h4,h5,Qh3,Qe7,b4,Ne4,Bxe4,dxe4,Ng5,O-O-O,Nd2,f6,exf6,Qxf6,Ndxe4,Bxe4,Nxe4,Qg7,O-O,Nf6,Nxf6,Qxf6,e4,Rhf8,e5,Qf5,Qxf5,Rxf5,Rf3,Rd5,a4,a6,a5,bxa5,Rxa5,Rxa5,bxa5,Kb7,g3,c5,c4,Rf8,Rb3+,Ka7,Rb6,Rb8,Rxe6,Rb4,Rxg6,Rxc4,e6,Re4,Rg7+,Kb8,e7,Kc8,f5,c4,f6,c3,Rg8+,Kd7,Rg5', 'c2,Rc5,Re1+,Kf2,c1=Q,Rxc1,Rxc1', 'https://lichess.org/training/dT6z5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dt7T8', 'Blitz', 'dbdb61', 2118, 'akdog3', 2288, 'e4,e6,d4,d5,exd5,Qxd5,c4,Qd8,Nf3,Nf6,a3,b6,Nc3,Bb7,Be2,Be7,O-O,O-O,h3,Nbd7,b4,c5,d5,exd5,cxd5,cxb4,d6,bxc3,dxe7,Qxe7,Bg5,Qc5,Be3,Qc7,Rc1,Rac8,Qd4,Rfd8,Qh4,Nf8,Bg5,Ng6,Qb4,Nd5,Qa4,Ndf4,Ba6,Bxf3,Bxd8,Rxd8,gxf3,Nxh3+,Kh1,Qc5,Rc2,Nhf4,Qb5,Qxa3,Qg5,Re8,Bc4,h6,Qf5,Re5', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/dt7T8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dt8P5', 'Rapid', 'Rooka82', 1985, 'masladron3', 1967, 'd4,d5,c4,Nf6,Nf3,c6,cxd5,Nxd5,e4,Nf6,Nc3,Bg4,Be2,e6,e5,Nd5,Nxd5,Qxd5,O-O,Nd7,Be3,Be7,Nd2,Bf5,a3,Nb6,b4,O-O,Rc1,h6,Bf3,Qd8,Be4,Nd5,Bxf5,exf5,Qf3,a5,Qxf5,axb4,axb4,Bxb4,Ne4,Ra3,Bxh6,gxh6,Nf6+,Nxf6,exf6,Bd2,f4,Qxd4+,Kh1,Kh8,Rcd1,Rg8,Qh5,Rg6,Qe2,Ra2,Qe8+,Rg8,Qxf7,Qe4,Rf3,Qe2,Rg1,Be3,Rxe3', 'Qxg2+,Rxg2,Ra1+,Re1,Rxe1+,Rg1,Rexg1#', 'https://lichess.org/training/dt8P5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dtaet', 'Bullet', 'barbarcz', 1956, 'm4ret', 1991, 'e4,e6,d4,b6,Bd3,Bb7,c4,Nf6,Nc3,Bb4,d5,exd5,cxd5,c6,Bg5,h6,Bh4,g5,Bg3,cxd5,e5,Ne4,Ne2,Nxg3,hxg3,Qe7,O-O,Qxe5,Nb5,a6,a3,Be7,Nbd4,Nc6,Nf3,Qe6,Re1,O-O,Ned4,Qf6,Nf5,Bc5,b4,Bd6,Bc2,Ne5,Nxe5,Bxe5,Qd3,Bxa1', 'Ne7+,Kg7,Qh7#', 'https://lichess.org/training/Dtaet');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTaFh', 'Rapid', 'dadyfisher98', 1657, 'fatihaslan0406', 1766, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d3,g6,Nf3,Bg7,Be2,Nf6,O-O,O-O,Bg5,b6,Qd2,Bb7,Bh6,Nc6,Rfe1,Nd4,Nxd4,Qxd4,Be3,Qd6,Bf4,Qc6', 'Bf3,Qd7,Bxb7', 'https://lichess.org/training/DTaFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dtAkc', 'Rapid', 'murali0', 1974, 'sutrserpa', 1971, 'e4,e5,f4,Bc5,Nf3,d6,d4,Bxd4,Nxd4,exd4,Qxd4,Qh4+,g3,Qf6,Qa4+,Bd7,Qb3,b6,Bd3,Bh3,Nc3,Ne7,Bd2,Bg2,Rg1,Bf3,Rf1,Bg4,Ne2,O-O,O-O-O,c5,Bc3,Qe6,Bc4,Qxe4,Rde1,d5,Bd3,c4,Bxe4,cxb3,Bxh7+,Kxh7,cxb3,Nbc6,h3,Bxh3,Rh1,Kg6,Rxh3,f5,g4,fxg4,Rg1,Kf5,Rh5+,Ke4,Rxg4,Kf3,Rg3+,Kxe2,Rh2+,Kf1,Rd3,Kg1,Re2,Rxf4,Rd1+,Rf1,Be1,Raf8,Rdd2,Rxe1+,Rxe1+,Rf1,Rxf1+,Kxf1,Kc2,g5,Kd3,g4,Ke3,g3,Kf3,Nf5', 'Rd1#', 'https://lichess.org/training/dtAkc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTANA', 'Rapid', 'decampos', 1767, 'BALASH', 1642, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Bc5,d3,Qf6,b4,Bb6,a4,a6,a5,Ba7,Bd5,Nge7,Bb2,d6,O-O,Qg6,Nh4,Qg5,g3,Bh3,Re1,Qf6,Qf3,Qxf3,Nxf3,g5,c4,Nxb4,Rd1,O-O-O,d4,Nbxd5,exd5,e4,Nfd2,f5,Nc3,Bxd4,Na4,c5,Nb3,f4,Nxd4,cxd4,Bxd4,fxg3,Bxh8,gxf2+,Kxf2,Rf8+,Kg3', 'Rf3#', 'https://lichess.org/training/DTANA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dtaQz', 'Classical', 'Vientooo', 1728, 'Vledkem', 1851, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,Ng5,O-O,d3,h6,Bxf7+,Rxf7,Nxf7,Kxf7,Nd5,Kg8,c3,Nxd5,exd5,Qf6,O-O,Ne7,Be3,Bxe3,fxe3,Qb6,Qf3,Ng6,Qf7+,Kh7,d4,exd4,cxd4,Qxb2,Rae1,Qxa2,Rf2,Qa5,Ree2,d6,Rf6,Nh8,Qe7,Bg4', 'Qe4+,Kg8,Qxg4', 'https://lichess.org/training/dtaQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTau9', 'Rapid', 'joaovitorjg', 1830, 'bhujel99', 1825, 'e4,c5,Nf3,h6,d4,cxd4,Nxd4,a6,Nc3,Nc6,f3,Qb6,Nb3,e6,Bd3,Nf6,Qe2,d6,Be3,Qc7,O-O,Ne5,a4,b6,a5,b5,Bb6,Qb7,f4,Nxd3,cxd3,Bd7,e5,dxe5,fxe5,Nd5,Qf3,Bc6,Nxd5,Bxd5,Qf2,Bxb3,Rac1,Bd5', 'Rc7,Qxc7,Bxc7', 'https://lichess.org/training/DTau9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTbAz', 'Rapid', 'mohsensoleimani1385', 1615, 'achita', 1731, 'Nf3,g6,Nc3,Bg7,d4,Nf6,e4,d6,e5,dxe5,Nxe5,O-O,Qf3,e6,Ne2,c6,g3,b6,Bg2,Bb7,Qe3,Nd5,Bxd5,cxd5,h4,Nc6,Nxc6,Bxc6,f4,Rc8,c3,Re8,g4,Qf6,g5,Qf5,h5,gxh5,Rxh5,Qg4,Rh3,Bb5,Rh2,f6,Bd2,fxg5,fxg5,Rf8,O-O-O,Rf3,Rg1,Rxe3,Rxg4,Rxe2,Rhh4,Rf8,g6,Rff2', 'gxh7+,Kh8,Rxg7,Rf1+,Kc2', 'https://lichess.org/training/DTbAz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dtc5H', 'Rapid', 'Younesbani', 1769, 'chess_madridista', 1758, 'd4,d5,Nc3,Nf6,Bg5,c6,Qd3,Nbd7,O-O-O,b5,Nf3,a5,e3,Ba6,Qd2,b4,Na4,Bb5,Nc5,Nxc5,dxc5,e6,Qd4,Be7,Ne5,O-O,h4,Ne4,Bxe7', 'Qxe7,Bxb5,cxb5', 'https://lichess.org/training/Dtc5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTdAA', 'Rapid', 'sajanchess', 1968, 'CPSharma', 1999, 'd4,d5,c4,e5,dxe5,d4,e3,c5,Nf3,Bg4,Be2,Nc6,exd4,cxd4,O-O,Bc5,h3,Bh5,Nbd2,Nge7,Ne4,b6,a3,a5,Bf4,O-O,Bd3,Rc8,Qc2,Bxf3,gxf3,Ng6,Bg3,Ncxe5,Kg2,Nh4+,Bxh4,Qxh4,Ng3,g6,Rae1,Qf4,Qe2,Rfe8,Qe4,Nxd3,Qxd3,h5,Rg1,Kg7,Kh1,Rxe1', 'Nxh5+,Kh6,Nxf4', 'https://lichess.org/training/DTdAA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTDS6', 'Rapid', 'Jona-1', 2046, 'mailtoilan', 1911, 'e4,c5,Nc3,e6,g3,d5,Bb5+,Nc6,exd5,exd5,d4,cxd4,Qxd4,Nf6,Bg5,Be7,Bxf6,Bxf6,Qxd5', 'Bxc3+,bxc3,Qxd5', 'https://lichess.org/training/DTDS6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DtF6U', 'Rapid', 'sawalkov', 1668, 'oakmac', 1660, 'e4,c5,b3,d6,Bb2,e5,d3,Nc6,Nc3,Nf6,Nd5,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/DtF6U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dTFQc', 'Rapid', 'rajeshpb', 1778, 'jsnascimento1982', 1779, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,d4,Nf6,e4,Nc6,Bb5,a6,Bxc6+,bxc6,e5,Nd5,f4,Nxc3,bxc3,Bb7,c4,e6,Nf3,Bb4+,Bd2,c5,O-O,Bxf3,Rxf3,Bxd2,Qxd2,cxd4,f5,O-O,c5,exf5,Rxf5,Qd5,Rc1,g6,Rf6,Qxe5,Rf4,Rad8,c6,Qe3+,Qxe3,dxe3,Re4,Rfe8,Rxe8+,Rxe8,Kf1,Re6,Ke2,Kg7,Rc3,h5,a4,f5,Rxe3,Rxc6,Kf3,Rc4,a5,Kh6,h3,Ra4,Re5,Kg5,g3,Ra3+,Kg2,Ra1,Rc5,Ra2+,Kf3,Ra3+,Kg2,h4,g4,Ra2+,Kf3,Ra3+,Kg2,Rg3+,Kh2,Ra3,Kg2,Kf4,gxf5,gxf5,Rc4+,Kg5,Rc5,Rg3+,Kh2,Ra3,Kg2,Kf4,Rc4+,Ke5,Rxh4,Rxa5,Rc4,Kd6,h4,Rc5', 'Rxc5,Kxc5,h5', 'https://lichess.org/training/dTFQc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dtGDt', 'Classical', 'Holopov', 1920, 'naser4321', 1984, 'e4,c5,Bc4,e6,c3,d5,exd5,exd5,Bb5+,Nc6,Ne2,Nf6,O-O,Be7,d4,O-O,dxc5,Bxc5,b4,Be7,Re1,Bg4,f3,Qb6+,Kh1,Qxb5,fxg4,Nxg4,Rf1,Qb6,Nd4,Nxd4,Qxd4,Qxd4,cxd4,Bxb4,Bd2,Bd6,h3,Nf6,Nc3,h6,Rf5,Bb4,a3,Bxc3,Bxc3,Rfc8,Bb4,Rc4,Rd1,Re8,Re5,g6,Rde1,Rxe5,dxe5,Ne4,Bd6,Rc6,Bb4,b6,Kh2,a5,Be7,Re6,Bd8,Rxe5,Bxb6,d4,Bxd4,Re6,Rb1,f5,Rb8+,Kf7,Rb7+,Re7,Rb5,Nd2,Rxa5,Re2,Ra7+,Ke6,Bc5,Kd5,Bf8,f4,Bxh6', 'Nf3+,Kh1,Re1#', 'https://lichess.org/training/dtGDt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTgpU', 'Rapid', 'mundistrul', 1662, 'pleasedontcheat', 1730, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,h6,c3,Nf6,d3,Bd7,b4,a6,a4,Be7,O-O,O-O,Be3,Qc8,Nh2,Be6,Nd2,Bxc4,Nxc4,Qd7,Qd2,b5,axb5,axb5,Nb2,d5,f3,dxe4,fxe4,Nxe4', 'dxe4,Qxd2,Bxd2', 'https://lichess.org/training/DTgpU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DThD9', 'Rapid', 'hm0210', 1730, 'Jibha', 1604, 'e4,e6,Nf3,d5,exd5,Qxd5,d4,Nf6,c4,Bb4+,Bd2,Bxd2+,Qxd2,Qd6,Nc3,O-O,Rd1,b6,Be2,Bb7,O-O,Nbd7,d5,e5,Nb5,Qc5,b4,Ne4,Qb2,Qe7,Nxc7,Rac8,Nb5,a6,Nc3,Nd6,Rfe1,Nxc4,Bxc4,Rxc4,Na4,Rxb4', 'd6,Qf6,Qxb4,Bxf3,gxf3', 'https://lichess.org/training/DThD9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTI0Z', 'Blitz', 'AlexandeRufus', 1742, 'trenoal', 1726, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Bxc6,Bxc6,Nxc6,bxc6,O-O,Be7,Qf3,O-O,Qg3,Re8,Bh6,Bf8,Bg5,Be7,Be3,c5,Rad1,Qb8,b3,Qb4,Nd5,Qxe4,Nxc7,Qxc2,Nxa8,Rxa8,Qf3,Rd8,Qb7,Rd7,Qc8+,Rd8,Qc7,Rd7,Qb8+,Bd8,Rc1,Qxa2,Bxc5,dxc5,Rfd1,Qa3', 'Qxd8+,Rxd8,Rxd8+,Ne8,Rxe8#', 'https://lichess.org/training/DTI0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dtjhE', 'Blitz', 'asmt5777', 1754, 'wallykiss', 1819, 'Nf3,Nc6,g3,d5,d3,Nf6,Bg2,Bf5,O-O,e6,Nbd2,h6,Re1,Be7,e4,dxe4,dxe4,Bh7,c3,O-O,Qe2,a6,e5,Nd5,Nd4,Nxd4,cxd4,c6,f4,Qb6,Nb3,Bb4,Bd2,Bxd2,Qxd2,Rac8,Rac1,Rfd8,Kh1,Ne7,Nc5,Nf5,Nb3,Nxd4,Nxd4,Rxd4,Qe3,Rcd8,Rcd1,Qxb2,Rb1,Qxa2,Rxb7,Rd2,Rg1,Re2,Qb6,Rf8,Rb8,Be4,Rxf8+,Kh7,Bxe4+,Rxe4,Qxc6,Re2,Rc1', 'Rxh2+,Kg1,Qf2#', 'https://lichess.org/training/dtjhE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dTK7u', 'Rapid', 'austin_p', 1679, 'praveenbhagwat', 1816, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,c4,Nd7,a3,Ne7,Bd3,Nf5,h3,Bxf3,gxf3,Nxd4,cxd5,cxd5,Be3,Nc6,f4,Bc5,Rg1,Bxe3,fxe3,Qh4+,Kd2,g6,Qf3,h5,Nc3,Qd8,b4,d4,Ne4,a6,Rac1,dxe3+,Qxe3,O-O,Ke1,Ne7,Be2,Nf5,Qf2,Kh8,Rd1,Qc7,Rg5,Rad8,Qg1,Rg8,Bxh5,gxh5', 'Rxh5+,Nh6,Rxh6#', 'https://lichess.org/training/dTK7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTKJj', 'Blitz', 'Zloy_Pes', 1694, 'Sens', 1746, 'e4,d5,exd5,Nf6,d4,Nxd5,Bc4,Nb6,Bb3,h6,Qh5,e6,Nf3,Be7,Qg4,Bf6,O-O,Nc6,Ne5,Nxe5,dxe5,Bxe5,Re1,Bf6,Bf4,Nd5,Bg3,c6,Be5,Qb6,Bxd5,Bxe5,Rxe5,Qxb2,Qxg7', 'Qc1+,Re1,Qxe1#', 'https://lichess.org/training/DTKJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DtKSv', 'Rapid', 'Olek333', 1920, 'fnietzsche', 1870, 'd4,d5,Nf3,Nc6,e3,Bf5,Bd3,Bg6,Bxg6,hxg6,Nc3,Nf6,Bd2,a6,Qe2,Qd6,O-O-O,Ne4,Nxe4,dxe4,Ne1,Rxh2,Rxh2,Qxh2,g3,Qh5,Qxh5,gxh5,f3,exf3,Nxf3,O-O-O,Rh1,g6,Ng5,f6,Ne6,Re8,c3,Kd7,Nxf8+,Rxf8,Rf1,e5,d5,Ne7,e4,f5,c4,Ke8,exf5,Nxf5,Re1,Nxg3,Rxe5+,Kd7,Kc2,Rg8,Bg5,Nf5,Kd3,h4,Ke4,h3,Kf3,Rh8,Re1,Rh5,Kg4,Nd6,Re7+,Kc8,Re1,Nxc4', 'Re8+,Kd7,Rd8#', 'https://lichess.org/training/DtKSv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dtkts', 'Rapid', 'Pavlofox', 1849, 'Allahin_aciz_kulu', 1923, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,d3,O-O,Bg5,h6,Bh4,b6,Nd5,Be7,Nxe7+,Qxe7,O-O,Bb7,c3,Na5,Bb3,Rad8,Nd2,d5,exd5,Nxb3,axb3,Bxd5,Rxa7,Ra8,Rxa8,Bxa8,Qe2,Rd8,f4,Qc5+,Kh1,exf4,Bxf6,gxf6,Rxf4,f5,d4,Qd5,Qf2,Re8,Nc4', 'Re1+,Qxe1,Qxg2#', 'https://lichess.org/training/dtkts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dtKuY', 'Blitz', 'Mario68', 1850, 'Colesproeuse', 1816, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Bb5+,Bd7,Bxd7+,Qxd7,Nf5,Nf6,O-O,Be7,Re1,O-O,Nxe7+,Qxe7,Bg5,Qe5,Bxf6,Qxf6,Nc3,Nc6,f3,Rad8,Nd5,Qxb2,Rb1,Qd4+,Kh1,b6,Qe2,Qa4,c4,Nd4,Qf2,Rb8,Qg3,Qxa2,Ra1,Qxc4,Rxa7,Ra8,Nf6+,Kh8,Rxa8,Rxa8,Nh5,Ne6,Qxd6,Qc3,Rd1,Ra1', 'Qb8+,Nd8,Qxd8#', 'https://lichess.org/training/dtKuY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DtllL', 'Blitz', 'oguzcakaloz', 1665, 'budieko', 1664, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Nf6,e5,Ne4,d3,Nc5,Bxf4,Be7,O-O,O-O,Nc3,d5,Nxd5,b5,Nxe7+,Nxe7,Bb3,Bb7,Bg5,Qd7,Bxe7,Qxe7,d4,Nxb3,axb3,c5,d5,Rad8,d6,Qe6,Re1,f6,Rxa7,Bxf3,Qxf3,fxe5,Qg3,Qf6,Qxe5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/DtllL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DtmIj', 'Blitz', 'superjaivan', 1646, 'Diprog49', 1642, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,Be7,d3,h6,O-O,Nf6,c3,O-O,Re1,Be6,Bb3,Qd7,d4,exd4,cxd4,Bxb3,Qxb3,b6,Nc3,Na5,Qc2,Nc6,b3,Nh7,Bb2,Ng5,Rad1,Nxf3+,gxf3,Qxh3,Ne2,Qd7,d5,Ne5,f4,Nf3+,Kf1,Nxe1,Rxe1,Qh3+,Kg1,Bh4,Qc3,Qg4+,Kf1,Rae8,Ng3,Bf6,Qc2,Bxb2,Qxb2,Qxf4,Nh5,Qg5,Ng3,Re5,Qc2,Qe7,Nf5,Qd7,Qd3,Kh7,f4,Ree8,Qh3,c6,Kf2,cxd5,Rg1,Rg8', 'Rxg7+,Rxg7,Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/DtmIj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dtmJL', 'Rapid', 'Drjekyllll', 1699, 'wirmius', 1713, 'f4,c5,Nf3,Nc6,e3,d5,Be2,Nf6,O-O,Bf5,b3,Qb6,Bb2,O-O-O,Ne5,Nxe5,fxe5,Be4,d4,Nd7,Nd2,f5,Nxe4,fxe4,Bg4,e6,Rf7,g6,Qe2,h5,Bh3,Bh6,Raf1,Rdf8,Rxf8+,Rxf8,Rxf8+,Nxf8,Qf2,Qc7,Ba3,b6,dxc5,bxc5,Qe2,Qa5,Bxc5,Qxc5,Qa6+,Kb8,Bxe6,Qxe3+,Kf1,Qc1+,Ke2,Qxc2+,Kf1,Nxe6,Qd6+,Nc7,Qb4+,Ka8,Qe1,Qc1,Qxc1,Bxc1,Ke2,e3,h3,Bd2,g3,d4,h4,Kb7,a3,Kc6,b4,a6,a4,Kd5,b5,Kxe5,b6,Nd5,b7,Nc3+', 'Kd3,Kf5,b8=Q', 'https://lichess.org/training/dtmJL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DtnPf', 'Rapid', 'RyanM', 1757, 'spacecase124875', 1990, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,d4,exd4,Qxd4,Bg4,Qxg7,Bxf3,Qxh8,Bxh2+,Kxh2,Qh4+,Kg1,Qg4,g3,O-O-O,Qxh7,Bxe4,Qh4,Qf3,Qh3+,Bf5,Qg2,Qh5,f3,Bh3,Qh2,Qc5+,Qf2,Qe5,Nc3,Nf6,Bf4,Qh5,Qh2,Rh8,Kf2,Qf5,Rg1,Qxc2+,Ne2,Nd5,Rh1,Qc5+,Ke1,Nb4,Qxh3+', 'Rxh3,Rxh3,Nc2+,Kf1,Nxa1', 'https://lichess.org/training/DtnPf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dtoxn', 'Classical', 'Adebayo-O-Rasaq', 1742, 'RameshSG', 1817, 'd4,d5,Bf4,Nf6,e3,Nc6,c3,Bg4,Be2,Qd7,h3,Bf5,Nf3,h6,O-O,g5,Be5,Ne4,Bxh8,g4,Ne5,Nxe5,Bxe5,gxh3,g3,f6,Bh5+,Kd8,Bf4,e5,dxe5,fxe5,Bxe5,Bd6,Bf6+,Nxf6,g4,Qg7,f3,Nxh5,Kf2,Bg3+,Ke2,Nf4+,exf4', 'Qe7+,Kd2,Bxf4#', 'https://lichess.org/training/Dtoxn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTP9x', 'Rapid', 'RalfZickler', 1949, 'Prabhakar_Epiroc', 1783, 'e4,e6,Nf3,d5,e5,Bd7,d4,c5,Be3,cxd4,Bxd4,Nc6,c3,Nxd4,Qxd4,Ne7,Bd3,Nf5,Bxf5,exf5,Qxd5,Bc6,Qxd8+,Rxd8,Nbd2,Bc5,O-O,O-O,Rfe1,Rd3,Rad1,Rfd8,Re2,Bxf3,gxf3,h5,f4,Kh7,Kf1,a5,a3,b5,b4,axb4,axb4,Bb6,Ke1,Rxc3,Nf1,Bxf2+', 'Rxf2,Rxd1+,Kxd1', 'https://lichess.org/training/DTP9x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DtPyL', 'Rapid', 'test2016test123', 1803, 'cugel', 1879, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,Bg4,h3,Bh5,Be2,e6,O-O,Nf6,Ne5,Bxe2,Qxe2,Nd7,f4,Nxd4,Qh5,Nxe5,fxe5,g6,Qg4,Nxc2', 'Qa4+,Qd7,Qxc2', 'https://lichess.org/training/DtPyL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTQJ2', 'Rapid', 'nuhiavdiu', 1710, 'kukusiiik', 1745, 'e3,e5,e4,Nf6,Nc3,Bb4,Nge2,c6,a3,Ba5,d3,d5,exd5,cxd5,b4,Bb6,Bg5,d4,Ne4,Be6,c3,dxc3,N2xc3,Qd4,Be3,Qd8,Nxf6+,Qxf6,Bxb6,axb6,Ne4,Qe7,Be2,Nc6,O-O,Nd4,f4,Nb3,Rb1,exf4,Rxb3,Bxb3,Qxb3,O-O,Rxf4,Kh8,h3,f5,Ng3', 'Qe3+,Rf2,Qxg3', 'https://lichess.org/training/DTQJ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dTR6A', 'Rapid', 'iHaveBigDck', 1645, 'algaco', 1705, 'e4,e5,f4,exf4,Nf3,Be7,d4,Bh4+,g3,fxg3,hxg3,Bxg3+,Kd2,Bf4+,Ke1,Bg3+,Kd2,d5,Nc3,dxe4,Nxe4,Bf4+,Kd3,Bxc1,Qxc1,Nf6,Nfg5,Nxe4,Nxe4,Bf5,Bg2,Nc6,c3,Qd7,Qg5,f6,Qh5+,Bg6', 'Qxg6+,hxg6,Rxh8+,Kf7,Rxa8', 'https://lichess.org/training/dTR6A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DtUeu', 'Blitz', 'ashshurbanapal', 2172, 'MonteroAriel2002', 2234, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,d6,h4,Nf6,f3,h5,Bc4,Ne5,Bb3,Bd7,Qd2,Rc8,O-O-O,Nc4,Bxc4,Rxc4,Nb3,a5,Nd5,Nxd5,Qxd5,Be6,Qxa5', 'Rxc2+,Kxc2,Bxb3+,axb3,Qxa5', 'https://lichess.org/training/DtUeu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DtuGh', 'Rapid', 'BUDITOP', 1842, 'mohamadreza1386', 1648, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d5,exd5,c6,Nxc3,Nf6,Bg5,h6,Bxf6,Qxf6,Qe2+,Be7,O-O-O,O-O,Nf3,Bg4,dxc6,Nxc6,Kb1,Bxf3,gxf3,Nd4,Qe3,Nxf3,Rd3,Ne5,Nd5,Qe6,Nxe7+,Qxe7,Re1,Rfe8,Bb5,Nxd3,Qxe7,Rxe7,Rxe7,Nxf2,Bc4,Rf8,Rxb7,a5,Ra7,Ng4,h3,Ne3,Bb3,Kh7,Rxa5,f5,a4,f4,Bc2+', 'Nxc2,Kxc2,f3', 'https://lichess.org/training/DtuGh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTVJF', 'Rapid', 'Moresant', 1717, 'Pratyaksh', 1786, 'd4,d5,c4,e6,Nc3,c6,Nf3,Bb4,cxd5,exd5,a3,Bxc3+,bxc3,Nf6,Bg5,h6,Bh4,O-O,e3,Bg4,Be2,Nbd7,O-O,Qc7,Bg3,Qb6,Rb1,Qa5,a4,Qxc3,Rxb7,c5,dxc5,Nxc5,Rc7,Rac8,Nd4,Rxc7,Bxc7,Bxe2,Qxe2,Rc8,Be5,Nxa4,Qa2,Qa5,Bxf6,gxf6,Nf5,Kh7,Ra1,Rc4,Nd6,Rb4,Nxf7,Qc7,Qxd5,Nc3,Qe6,Re4,Qxf6,Rh4,Qh8+,Kg6,Qg8+,Kf6,Ra6+,Ke7,Qg6', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/DTVJF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dTW9J', 'Rapid', 'Ipanema44', 1708, 'rezkytairas', 1723, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Qe2+,Be7,Bb5+,Nc6,Bxc6+,bxc6,Ne5,Qc7,d3,Nf6,Bg5,O-O,Nd2,Re8,f4,Ne4,dxe4,Bxg5,fxg5,Rxe5,O-O,Rxg5,Nf3,Bg4,Qe3,Rg6,e5,d4,Qe4,Bxf3,Rxf3,Re8,Re1,Qb7,b3,Qd7,Qf4,Rg4', 'e6,Rxf4,exd7,Rxe1+,Kf2,Rfe4,d8=Q+', 'https://lichess.org/training/dTW9J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dtwje', 'Blitz', 'Richter75', 1864, 'Dehon', 1798, 'e4,c5,Nc3,a6,Bc4,Nc6,d3,e6,Bb3,Qc7,Qf3,b5,Nge2,Bb7,h4,Nf6,h5,h6,Qg3,Qxg3,Nxg3,Bd6,f4,e5,f5,Na5,Bd2,Nxb3,axb3,c4,bxc4,bxc4,O-O,Bc5+,Kh1,Ng4,dxc4,Nf2+,Kh2,Ng4+,Kh3,Nf2+,Kh4', 'Be7+,f6,Bxf6+,Bg5,hxg5#', 'https://lichess.org/training/dtwje');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dtxeW', 'Blitz', 'Reflekt0r', 2051, 'shauryashetty2017', 2069, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,Nxe4,d5,Ne7,Nxe5,d6,Bb5+,c6,dxc6,bxc6,Nxc6,Qb6,Nd4+,Bd7,Bxd7+,Kxd7,O-O,Nf6,Re1,Ng6,Bg5,Be7,Qa4+,Kc7,Na3,a6,Nc4,Qc5,h4,d5,Ne5,Nxe5,Rxe5,Bd6,Re2,Ne4,Be3,Qc4,Qa5+,Kb7,Rae1,Bc7,Qa3,Bd6,Qa5,Bc7,Qb4+,Qxb4,cxb4,Rhe8,f3,Nf6,a4,Bb6,a5,Rxe3,Rxe3,Bxd4,Kf1,Bxe3,Rxe3,Re8,Rd3,Kc6,b3,Kb5,g4,Rd8,Rd4,Ne8,Ke2,f6,Kd3,Kc6,Kc3,Nc7,Rd1,Nb5+,Kd3,d4,Rc1+,Kd5,Rc5+,Kd6,g5,fxg5,Rxg5,g6,h5,gxh5,Rxh5,Re8,Rh6+,Kd5,Rxa6,Re3+,Kc2,d3+,Kd2,Rxf3,Rh6,Kd4,Rh4+,Kd5,Rh5+,Kc6,Rh6+,Nd6,Rxh7,Ne4+,Kd1,d2,Rh6+,Kb5', 'Rb6#', 'https://lichess.org/training/dtxeW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dtXIu', 'Rapid', 'sophisto', 1821, 'nanardo', 1779, 'c4,e5,b3,f5,Bb2,d6,e3,Nf6,a3,Be7,Qc2,Be6,d3,O-O,Nd2,Kh8,Be2,Nbd7,Ngf3,b6,O-O,Bg8,b4,a5,Rfe1,a4,e4,f4,d4,exd4,Nxd4,Ne5,Nf5,Qe8,Nf3,Nxf3+,Bxf3,Be6,Rac1,Bd8,Qd2,g5,h3,h5,e5,dxe5,Bxa8,Bxf5,Bxe5,Qg6,Qc3,Kh7,f3,c5,Bc6,Be7,Bxa4,Rc8,Bc2,cxb4,axb4,Nd5,Bxf5,Qxf5,Qd4,Nxb4,Qxb6', 'Bc5+,Qxc5,Rxc5', 'https://lichess.org/training/dtXIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DTxST', 'Rapid', 'thompson2067', 1748, 'Oxytocinblb', 1849, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,c3,Nf6,Re1,e6,d4,cxd4,cxd4,Be7,d5,exd5,exd5,Nb4,Qe2,Nbxd5,Bg5,O-O,Qd2,Rfe8,Nc3,Nxc3,Qxc3,Rac8,Qd2,Qd8,Nd4,Ne4', 'Rxe4,Bxg5,Rxe8+,Qxe8,Qxg5', 'https://lichess.org/training/DTxST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dTXWS', 'Bullet', 'sunrise247', 1847, 'AbdulKhaliq', 1830, 'd4,Nf6,Bf4,g6,Nf3,Bg7,e3,O-O,Be2,d6,O-O,Nbd7,Nbd2,Re8,c3,e5,dxe5,dxe5,Bg5,e4,Nd4,h6,Bh4,c6,Qc2,g5,Bg3,Nc5,N2b3,Nxb3,Nxb3,Bg4,Rad1,Qb6,Bxg4,Nxg4,Nd4,Ne5,Bxe5,Rxe5,Rd2,Rae8,Rfd1,f5,Nb3,f4,exf4,gxf4,Rd7,e3,Qg6', 'exf2+,Kf1,Re1+,Rxe1,fxe1=Q#', 'https://lichess.org/training/dTXWS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DtYpm', 'Blitz', 'Sid_67', 1960, 'ptvbw', 2012, 'e4,c6,d4,e6,Bd3,d5,e5,f6,f4,f5,g4,g6,Nf3,Be7,g5,h6,h4,hxg5,fxg5,c5,Bb5+,Bd7,Bxd7+,Nxd7,c3,Qb6,Na3,a6,Nc2,Rc8,Qe2,Qc7,Ne3,b5,Bd2,Nb6,Ng2,Nc4,Bc1,b4,Nf4,Kf7,h5,gxh5,Rxh5,Rxh5,Nxh5,Ke8,b3,Na3,Bxa3,bxa3,Qxa6,cxd4,Rc1,dxc3,Nd4,Bxg5,Ng7+,Qxg7,Qxe6+,Kd8,Qd6+,Qd7', 'Ne6+,Ke8,Qf8#', 'https://lichess.org/training/DtYpm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DtYWu', 'Blitz', 'ruslanaleksandrovich', 2268, 'IM BigAl1', 2386, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Ne7,O-O,Ng6,Be3,Be7,b3,O-O,c4,Nd7,Nc3,f6,exf6,Nxf6,h3,Ne4,Nxe4,Bxe4,Re1,Nf4,Bxf4,Rxf4,Ne5,Bd6,Qd2,Qf8,Bf3,Bb4,Qe3,Bxe1,Rxe1,Bxf3,Nxf3,Re8,Ng5,Rf6,cxd5,cxd5,Qd3,Rg6,Re5,Qf4,Nxh7,Qh6,Qb5,Re7,Qc5,Qc1+,Kh2,Qf4+,Kg1,Rf7,Qc2,Qxd4,Rh5,Qe4', 'Qc8+,Rf8,Qxf8#', 'https://lichess.org/training/DtYWu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DtzTd', 'Rapid', 'numididae', 2009, 'd335722682', 1878, 'e4,c6,f4,d5,e5,f6,d4,fxe5,fxe5,Bf5,g4,e6,h4,Be4,Nf3,Nh6,Bxh6,gxh6,Nbd2,Bxf3,Nxf3,c5,Bb5+,Nc6,g5', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/DtzTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dU1WR', 'Rapid', 'Ronn1234', 1518, 'thokk132', 1524, 'd4,f5,Bf4,g6,Nf3,Bg7,e3,d6,Nbd2,Nc6,Bd3,e5,dxe5,dxe5,Bg5,Nf6,Bc4,e4,Ng1,Qd6,Ne2,Ne5,Bf4,Be6,Bxe5,Qxe5,Bxe6,Qxe6,O-O,O-O-O,Qc1,h5,a4,g5,b4,g4,Nf4,Qd6,Nc4,Qxb4,Ne5,Nd5,Nf7,Bxa1,Qxa1,Nxf4,exf4,Rh7,Nxd8,Kxd8,Rd1+,Kc8,Qf6,b6,Rd8+,Kb7,g3,Qb1+,Kg2,Qxc2,Qxf5,Re7,Qd5+,Ka6,Qb5+,Kb7,a5,a6', 'Qd5+,Qc6,Rb8+,Kxb8,Qxc6', 'https://lichess.org/training/dU1WR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Du3q8', 'Blitz', 'NM Blackoperator', 2553, 'NM DragonMaterz', 2310, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Nbd7,f3,Nc5,Be3,b5,Qd2,Nfd7,O-O-O,Bb7,g4,Rc8,Kb1,Be7,g5,Ne5,h4,b4,Nce2,a5,Nb5,Nxf3,Qc1,Qb6,Nbd4,Nxd4,Nxd4,O-O,g6,hxg6,h5,Bxe4,Nxe6,Bxh1,Rxh1,g5,h6,g6,Bxg5,Nxb3,Bxe7,Nxc1', 'h7+,Kh8,Bf6#', 'https://lichess.org/training/Du3q8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('du5xL', 'Rapid', 'Aymanya', 1836, 'LeticiaPolgar', 1740, 'e4,c5,Nc3,a6,Nf3,d6,d4,cxd4,Nxd4,Nf6,g3,b5,Bg2,Bb7,O-O,b4,Nd5,Nxd5,exd5,Nd7,Re1,Nf6,Nf5,g6,Ne3,Bg7,a3,bxa3,Rxa3,O-O,Rb3,Rb8,Bd2,Nd7,Bc3,Ne5,Qa1,Qd7,Rd1,Rfc8,Bxe5,Bxe5,c3,Rc5,Ra3,Rb5,Nc4,Qg4,Nxe5,dxe5,Qc1,Rxb2,Qxb2', 'Qxd1+,Bf1,Qxd5', 'https://lichess.org/training/du5xL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dub8M', 'Blitz', 'trogawr', 1973, 'luciokid', 1890, 'e4,e5,f4,d5,Nf3,dxe4,Nxe5,Nf6,Bc4,Bc5,Bxf7+,Kf8,Bb3,Qd4,Qe2,Bg4,Nxg4,Nxg4,c3,Qf6,d4,exd3,Qxd3,Bf2+,Kf1,Nc6,h3,Nce5,fxe5,Nxe5,Qe4,Be3+,Ke2,Qf2+,Kd1,Rd8+,Nd2', 'Rxd2+,Bxd2,Qxd2#', 'https://lichess.org/training/Dub8M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dUCc2', 'Rapid', 'Efrasim', 1836, 'T-15_95', 1784, 'Nf3,Nc6,b3,d5,Bb2,Nf6,d3,d4,Nbd2,e5,c3,Bc5,cxd4,exd4,g3,O-O,Bg2,h6,O-O,Bg4,a3,a5,Nc4,b5,Nce5,Nxe5,Nxe5,Be6,b4,axb4,Bxa8,Bd6,axb4,Bxe5,Bg2,Qd6,Qd2,Qd7,e3,Bh3,exd4,Bxg2,dxe5,Ne4,Qe3,Bxf1,Rxf1,Ng5,d4,f6,f4,Ne6,d5,Qxd5,exf6,gxf6,Re1,Ng7,Qe7', 'Re8,Qxe8+,Nxe8', 'https://lichess.org/training/dUCc2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DUcQW', 'Rapid', 'msttrr', 2340, 'Ritterf3', 2222, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Qxd4,e6,Nf3,Nc6,Qe4,f5,Qe2,Be7,g3,b6,Bg2,a5,O-O,Ba6,c4,Nc7,Nh4,O-O,Rd1,Qe8,Na3,Rb8,Nb5,Bxb5,cxb5,Nb4,a3,Nbd5,a4,Bc5,Be3,Nxe3,fxe3,h6,Rac1,g5,Nf3,Nd5,Nd4,Qe7,Rf1,Qg7,Bxd5,exd5,Nxf5,Qxe5,Nxh6+,Kg7,Rxf8,Qxe3+,Qxe3,Bxe3+,Kg2', 'Rxf8,Re1,Rf2+', 'https://lichess.org/training/DUcQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('duD5H', 'Blitz', 'IM chargemax23', 2692, 'Defence1234', 2575, 'e4,c5,Nf3,d6,Bb5+,Nd7,c3,a6,Ba4,Nf6,d3,b5,Bc2,e6,O-O,Bb7,Re1,Be7,Nbd2,O-O,d4,Rc8,e5,dxe5,dxe5,Nd5,Ne4,h6,a4,Qc7,axb5,axb5,Ng3,Rfd8,Nh5,c4,Qd2,Bf8,Qd4,Nc5,Qg4,Kh8,Bg5,Rd7,Rad1,Nd3,Bxd3,cxd3,Rxd3,Qc4,Rd4,Qb3,Bc1,Rc4,h4,Rxd4,cxd4,Qc2,Rf1,b4,Ng3,Ba6,Re1,b3,Ne4,Bb4,Bd2,Bxd2,Nfxd2,Qxb2,Rb1,Qxd4,Rxb3,Qxe5,Qh3,Nf4,Qe3,Kh7', 'Ng5+,hxg5,Qxe5', 'https://lichess.org/training/duD5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DudEu', 'Rapid', 'omertur', 1713, 'MarvinDalBo', 1965, 'Nf3,Nc6,e4,e5,d3,Bc5,Nc3,Nf6,Be3,b6,Be2,d6,O-O,O-O,a3,Ng4,Bxc5,bxc5,h3,Nf6,Rb1,Ne7,Re1,c6,Bf1,d5,Nxe5,d4,Ne2,Qc7,Nc4,Ng6,c3,Nh5,cxd4,cxd4,Nxd4,Ngf4,g3,Nxg3,fxg3,Nxh3+,Kh2,Qd7,Qh5,Nf2,Nf3,g6,Qh6', 'Ng4+,Kg1,Nxh6', 'https://lichess.org/training/DudEu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DudpZ', 'Rapid', 'Dhika46', 1885, 'molekula59', 1888, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,h3,Bf5,Bd3,Bxd3,Qxd3,Qa5+,Qd2,Qxd2+,Nbxd2,Nc6,c3,e6,O-O,Be7,Re1,O-O,a3,b5,b3,a5,Nh2,b4,axb4,axb4,Bb2,bxc3,Bxc3,Rfb8,b4,Nxb4,Bxb4,Bxb4,Rxa8,Rxa8,Rd1,Bc3,Nb3,Ne4,Nc5,Ra1,Rxa1,Bxa1,Nf3,Kf8,Kf1,Ke7,Nb3,Bc3,Ke2,Kd6,Ne5,f6,Nd3,Kc6,f3,Ng3+,Kd1,Nf5,g4,Nxd4,Nxd4+,Bxd4,Ke2,e5,Nb4+,Kc5,Na6+,Kc4,Nc7,Bb6,Ne6,g6,h4,d4,h5,d3+,Kd2,Ba5+,Kd1,gxh5,gxh5,h6,Ng7,Bc3,Nf5,e4,fxe4,Be5,Nxh6,Kd4', 'Nf5+,Kxe4,h6,Kxf5,h7', 'https://lichess.org/training/DudpZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dUf31', 'Blitz', 'thisisrussia', 1700, 'how2checkmate', 1689, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,Nc3,Bf5,f4,Nc6,d5,Nb4,a3,Nc2+,Kf2,Nxa1,Be3,Nc2,Bxb6,axb6,g4,Bxg4,Qxc2,g6,h3,Bf5,Qd2,dxe5,fxe5,e6,Nf3,Bc5+,Kg3,h5,h4,Rg8,b4,Be7,d6,cxd6,exd6,Qxd6+,Qxd6,Bxd6+,Kf2,Rxa3,Nb5,Ra2+,Ke3,Bxb4,Bg2,Bc5+,Kf4,Rxg2,Rd1,Ke7,Ne5,Rf2+,Kg5,f6+,Kh6,Rh8+,Kg7,Rf8', 'Rd7+,Ke8,Nc7#', 'https://lichess.org/training/dUf31');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DUfao', 'Blitz', 'sicfrancGM', 2151, 'iambored11', 2141, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Ba4,Be7,Bb3,O-O,Re1,d5,d3,Nc5,Nxe5,Bf6,Nxc6,bxc6,d4,Ne4,c3,Bf5,Nd2,Re8,Nxe4,Bxe4,f3,Bg6,Bf4,Qd7,Qd2,Rab8,Bg3,a5,Ba4,h6,Rxe8+,Rxe8,Re1,Bg5,Qf2,Rxe1+,Qxe1,Bd3,Qe5,Bd8,h3,Bb5,Bc2,Kf8,Bf5,Qe7,Qxe7+,Kxe7,b3,g6,Bc8,a4,b4,a3,Bf4,Bc4,Bc1,Bxa2,Bxa3,Kd6', 'b5+,c5,Bxc5#', 'https://lichess.org/training/DUfao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dufe1', 'Rapid', 'kennethbbb', 1953, 'sleepysekai', 2019, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,dxc4,e4,Be7,e5,Nd5,Bxe7,Nxe7,Bxc4,Nbc6,Nf3,Nf5,Bb5,O-O,Ne2,a6,Bd3,b5,O-O,Bb7,a3,g6,Be4,Rb8,Qd3,Qd7,Rfd1,Rfd8,Rac1,Nce7,Bxb7,Rxb7,g4,Ng7,Qe4,Nd5,Nc3,Ra7,Nxd5,Qxd5,Qxd5,Rxd5,Rc6,Ne8,Rc5,Rd7,Kg2,Ra8,Ng5,Rad8,Nf3,Kg7,Rc6,Ra8,Ng5,a5,Ne4,Rad8,d5,Rxd5,Rxd5,Rxd5,f4,Rd4,Kf3,Rc4,Nc5,b4', 'Nxe6+,fxe6,Rxc4', 'https://lichess.org/training/Dufe1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('duhFF', 'Rapid', 'baturbec', 2042, 'chessreturns', 1943, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,Bg4,Be2,e6,Be3,Nbd7,O-O,Be7,Bd3,O-O,h3,Bh5,Ne4,Rc8,c3,c5,Nxf6+,Nxf6,Be2,Qc7,Ne5,Bxe2,Qxe2,Rfd8,Nf3,Nd5,Rac1,b6,dxc5,Bxc5,Bxc5,Qxc5,Nd4,Rd7,Qb5,Qxb5,Nxb5,Rcd8,Nd4,e5,Nc6,Rc8,Nxe5,Re7,Nf3,Re2,Rcd1,Nf4,Rd2,Rce8,Rfd1,Kf8,Rxe2,Rxe2,Rd2,Rxd2,Nxd2,Nd3,b3,Ke7,Kf1,Ke6,a3,Kd5,Ke2,Nf4+,Kf3,Nd3,Ke3,Ne1,g4,Nc2+,Kd3,Nxa3,c4+,Ke5,Kc3,b5,c5,a5,Kb2,b4,f4+,Kd5,Ne4', 'Kxe4,c6,Nb5', 'https://lichess.org/training/duhFF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DUJEl', 'Rapid', 'arakis', 1604, 'UweMarvin', 1607, 'e4,c5,c3,d5,e5,g6,d4,Bg7,Nf3,cxd4,cxd4,Nd7,Be2,Nh6,Nc3,e6,Be3,Nf5,Bd2,O-O,g4,Nxd4,Nxd4,Bxe5,Bh6,Re8,f4,Bxd4,Qxd4,Qh4+,Kd2,Qxh6,g5,Qg7,Qf2,Nb6,h4,Nc4+,Bxc4,dxc4,h5,gxh5,Rxh5,Rd8+,Kc2,Qd4,Qxd4,Rxd4,Rah1,e5,fxe5,Rg4,Rxh7', 'Bf5+,Kc1,Bxh7', 'https://lichess.org/training/DUJEl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DUjg8', 'Classical', 'javier0794', 872, 'lingchestics', 956, 'g4,Nf6,g5,Ng4,Nh3,e5,Rg1,h6,Rxg4,d6,Ng1,Bxg4,gxh6,gxh6,Nc3,a6,b3,Be7,h3,Bf5,Ba3,Rg8,Nf3,c5,Nh4,Be6,b4,a5,bxc5,dxc5,Nf3,b5,Nxe5,b4,Bxb4,axb4,Nb5,f6,Nd3,Rg1,e3,Bxh3,Qf3,Bxf1,Qxa8,c4,O-O-O,cxd3,Rxf1,Rxf1+,Kb2,dxc2,Kxc2,Qc8+,Kd3,Rxf2,Nd4,b3,axb3,Bb4,Qe4+,Kf7,Qh7+,Kf8', 'Qh8+,Ke7,Qxc8', 'https://lichess.org/training/DUjg8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dujJS', 'Rapid', 'dragon82', 1748, 'dhaunac', 1760, 'e4,c6,Nf3,d5,exd5,cxd5,Be2,Nf6,O-O,Bf5,d3,e6,Nd4,Bg6,c3,Bc5,Qa4+,Nc6,Nxc6,bxc6,Qxc6+,Nd7,d4,Rc8,Qa6,Bb6,Bb5,O-O,Nd2,Nb8,Qa4,Qd6,Nf3,a6,Be2,a5,g3,Be4,Ne5,Nd7,Bf4,Nxe5,Bxe5,Qe7,Qb3,Bc7,Qb7,f6,Bxc7,Rxc7,Qb5,Ra7,f3,Bg6,Qa4,Rb8,Qd1,Rxb2,Bd3,Bxd3,Qxd3,Rab7,c4,dxc4,Qxc4,Rc7,Qd3,Rcc2,Rfb1,Rg2+,Kf1,Rbf2+,Ke1,Rxh2,Rb8+,Kf7,Rab1,Re2+,Qxe2,Rxe2+,Kxe2,Kg6,f4,Qa3,Kf2,Qc3,R8b3,Qxd4+,Kg2,Qe4+,Kh3,Qf5+,Kg2,h5,Rb5,Qe4+,Kh3,a4,g4,Qf3+,Kh2,Qxg4', 'Rg1,Qxg1+,Kxg1', 'https://lichess.org/training/dujJS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DupOH', 'Rapid', 'Jazzzz65', 1776, 'Vovin021774', 1731, 'd4,Nf6,c4,d6,Bg5,Ne4,h4,Nxg5,hxg5,Bf5,Nc3,h6,Nf3,g6,e4,Bg4,Be2,Bxf3,Bxf3,Bg7,Qd2,h5,g4,hxg4,Rxh8+,Bxh8,Bxg4,e6,O-O-O,Qe7,Rh1,Qf8,Nb5,Kd7,d5,a6,dxe6+,fxe6,Qa5,b6,Bxe6+,Kd8,Qa4', 'Qf4+,Kd1,Qf3+', 'https://lichess.org/training/DupOH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dUqGd', 'Rapid', 'faowwaz_10', 1672, 'shrimppa', 1627, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,d4,exd4,Nxd4,Bd7,Be2,Be7,O-O,O-O,Nxc6,Bxc6,Bf3,Nd7,Nd5,Ne5,Nxe7+,Qxe7,Be2,Bxe4,f3,Bc6,b3,Rad8,Ba3,Qf6,Bb2,Qe6,Kh1,Kh8,Re1,Qf5,Rf1,Rfe8,Qc1,Ng6,Qh6,f6,Qd2,Nf4,Bd3,Qg5,Rf2,Nh3,gxh3', 'Bxf3+,Rxf3,Qxd2', 'https://lichess.org/training/dUqGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DUR2q', 'Rapid', 'myposition', 1690, 'lenawiezanw', 1689, 'b4,d5,b5,Nf6,Bb2,c6,a4,Bd7,e3,g6,Nf3,Bg7,Be2,O-O,c4,cxb5,cxb5,a6,O-O,axb5,axb5,Rxa1,Bxa1,Qa5,Bc3,Qb6,Re1,Bxb5,Qb3,Nbd7,Qxb5,Qd6,Qxb7,Ng4,Bxg7,Kxg7,Nc3,Ndf6,h3,Rb8,Qa7,Ne5,Nxe5,Qxe5,d4,Qd6,Rb1,Rxb1+,Nxb1,Qb4,Qa2,Ne4,Qc2,Qe1+,Bf1,h5,Na3,e6,Nb5,g5,Qe2,Qb1,Qxh5,Nd2,Qxg5+,Kf8,Qd8+,Kg7,Qg5+,Kf8,Qh6+,Ke7,Qh4+,Kf8,Qf6,Qxf1+,Kh2,Qxb5,Qd8+,Kg7,Qg5+,Kf8,Qd8+,Qe8,Qd6+,Qe7,Qb8+,Kg7,Qg3+,Kf8,Qb8+,Qe8', 'Qb4+,Kg7,Qxd2', 'https://lichess.org/training/DUR2q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('durts', 'Rapid', 'USTAGM', 1841, 'lotbo', 1806, 'c4,b6,e3,Bb7,Nf3,g6,Be2,Bg7,Nc3,d6,d4,Nd7,O-O,c5,d5,Ne5,Nxe5,Bxe5,f4,Bg7,Qc2,Nf6,b3,O-O,Bb2,Qd7,Bf3,e6,Ne4,Nxe4,Bxg7,Kxg7,Bxe4,exd5,cxd5,Qg4,Qc3+,Kg8,Qf6,h5,Qxd6,h4,Bf3,Qf5,h3,Rad8,Qc7,Bxd5,Bxd5,Qxd5,Qxa7,Qd2,Rfe1,Qb4,Rac1,Rd2,Rc4', 'Rxg2+,Kxg2,Qxe1', 'https://lichess.org/training/durts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dUt7E', 'Classical', 'itry13', 1693, 'Arktur55', 1668, 'c4,e5,f4,exf4,d4,Nf6,Bxf4,Be7,Nc3,d6,d5,c6,e4,cxd5,cxd5,Nbd7,Nf3,Nh5,Be3,Ne5,Be2,Nf6,O-O,O-O,Rc1,Bd7', 'Nxe5,dxe5,d6,Bxd6,Qxd6', 'https://lichess.org/training/dUt7E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DuUGC', 'Rapid', 'Zoecir', 1616, 'anto051', 1874, 'e4,c5,Nf3,d6,h3,Nc6,Bc4,e6,O-O,Nf6,Re1,a6,c3,b5,Bf1,e5,a3,Be7,b4,c4,d3,cxd3,Bxd3,O-O,c4,bxc4,Bxc4,Bb7,Nc3,Rc8,Bb2,Kh8,Qe2,Qc7,Rac1,Qb8,Bxa6,Bxa6,Qxa6,Nh5,Qe2,Nf4,Qe3,Rc7,Nh2,Rfc8,Nd5,Nxd5,exd5,Nd8,Nf3,h6,Nh2', 'Bg5,Rxc7,Bxe3', 'https://lichess.org/training/DuUGC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DUVQE', 'Rapid', 'tonoysoy', 2019, 'damin_gambit', 2145, 'd4,Nf6,Nf3,d5,Bf4,e6,e3,Bd6,Bg3,O-O,Bd3,b6,Nbd2,Bb7,c3,c5,Ne5,Nc6,h4,Qc7,f4,Ne7,Qf3,cxd4,exd4,Nd7,Qh5,f5,Bf2,Nf6,Qf3,Ne4,O-O-O,Nxc3,bxc3,Qxc3+,Bc2', 'Ba3+,Kb1,Qb2#', 'https://lichess.org/training/DUVQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dUVqH', 'Rapid', 'p3aoR3i', 1611, 'MazG9', 1615, 'e4,g6,Nf3,Bg7,d4,c5,Be2,Qa5+,Bd2,Qb6,dxc5,Qxc5,c3,Nc6,O-O,Ne5,Be3,Nxf3+,Bxf3,Qb5,Qd2,b6,Na3,Qa5,Nc4,Qa4,Be2,b5,b3,Qa6,Nb2,Bb7,Na4,d6,Rfd1,Bxe4,Nc5,dxc5', 'Qd7+,Kf8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/dUVqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dUVza', 'Rapid', 'helloman974', 1683, 'zarmir', 1822, 'd4,d5,Nc3,Nf6,e3,a6,Be2,Nc6,a3,e5,dxe5,Nxe5,Nf3,Bd6,Nxd5,Nxd5,Qxd5,O-O,Nxe5', 'Bb4+,Qd2,Bxd2+', 'https://lichess.org/training/dUVza');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dUVZx', 'Rapid', 'Tigero39', 1710, 'RianPatrickkk', 1628, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Be6,Bd5,Nge7,Nc3,Bxd5,exd5,Nb4,d4,exf4,Bxf4,Nexd5,Qe2+,Be7,Bg3,O-O,O-O,Bf6,a3,Nxc3,bxc3,Nd5,c4,Re8,Qf2,Nb6,c5,dxc5,Rad1,cxd4,Nxd4,Bxd4,Rxd4,Qe7,Re1,Qc5,Rxe8+,Rxe8,h3,f6,Kh2,Qe7,Qf5,a6,a4,c6,a5,Nd5,c4,Ne3,Qd7,g6,Qxe7,Rxe7,Bf4,Nf5,Rd8+,Kf7,g4,Ne3,Bd6,Re8,Rd7+,Kg8,Rxb7,Nxc4,Bc5,Nxa5,Rb6,Ra8,Bd4,Kf7,Bc3,Nc4,Rxc6,Ne5,Rb6,a5,Kg3,a4,Rb7+,Kg8,g5,Nc6,gxf6,Nd8', 'Rg7+,Kf8,Bb4+', 'https://lichess.org/training/dUVZx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('duwhc', 'Rapid', 'Filuz', 1901, 'CripyPasta2', 1843, 'e4,e5,Bc4,Nf6,d3,Nc6,Bg5,Bc5,Nf3,d6,O-O,Bg4,h3,Bh5,Nbd2,h6,Bh4,g5,Bg3,g4,hxg4,Bxg4,c3,h5,Qb3,Na5,Bxf7+,Kd7,Be6+,Bxe6,Qb5+,c6,Qa4,b5,Qc2,Ng4,d4,exd4,cxd4,Bb6,Rac1,Rc8,Qd3,a6,e5,d5,b4,Nc4,Nxc4,bxc4,Qa3,Ra8,b5,axb5', 'Qd6+,Kc8,Qxc6+', 'https://lichess.org/training/duwhc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DUXy3', 'Rapid', 'BERNARDOGIL', 1958, 'A-r-e-f', 1943, 'e4,e5,Nf3,Nc6,g3,Nf6,d3,h6,Bg2,Bc5,O-O,O-O,c3,d5,exd5,Nxd5,Qc2,Bf5,Nbd2,Nb6,Ne4,Nd5,Nxc5,b6,Ne4,Nf6,Nxf6+,Qxf6,Be3,Rfd8,Rad1,Bg4,Qe2,e4,dxe4,Ne5,Bd4,Nxf3+,Bxf3,Qxf3,Qxf3,Bxf3,Rde1,c5,Be3,Bxe4,Rd1,Bf3,Rxd8+,Rxd8,Re1,Re8,Kf1,Bd5,b3,Be4,Bd2,Bd3+,Kg2,Rxe1,Bxe1,a5,a3,Kf8,b4,axb4,axb4,cxb4,cxb4,b5,Kf3,Ke7,Ke3,Bc4,Kd4,Kd6,Bd2,h5,Bf4+,Ke6,f3,Kf5,Bd2,g5,f4,gxf4,Bxf4,h4,Bd6,Kg4,gxh4,Kxh4,Ke5,Kh3,Kf6,Kg4,Ke7,f5,Kf6,f4,h4', 'f3,Bc5,Kxh4', 'https://lichess.org/training/DUXy3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('duy8g', 'Classical', 'romic1998', 1773, 'S2J', 1689, 'd4,Nf6,c4,e6,Nc3,Be7,e4,O-O,Nf3,d6,Bd3,h6,Be3,Nbd7,h3,Re8,O-O,Nf8,Qc2,e5,dxe5,dxe5,Nxe5,Bd6,Nf3,Bd7,Rad1,Qc8,Nd5,Nxd5,exd5,Bxh3,gxh3', 'Qxh3,Bf5,Qxf3', 'https://lichess.org/training/duy8g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DUyAa', 'Rapid', 'mangesh_modak', 1756, 'lerochetton', 2095, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,dxc4,e3,b5,a3,e6,Be2,Nd5,O-O,Nxc3,bxc3,Be7,e4,Nd7,e5,Nb6,Nd2,Nd5,Ne4,Bb7,f4,Qa5,Bb2,Ne3,Qe1,Nxf1,Qxf1,f5,exf6,gxf6,Bh5+,Kd7,Nc5+,Bxc5,dxc5,Rad8,Qe2,Ke7,Re1,Bc8,Bg4,Qc7,Bxe6,Bxe6', 'Qxe6+,Kf8,Qxf6+', 'https://lichess.org/training/DUyAa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DuYGR', 'Classical', 'eyupoglu1453', 1710, 'Tangolima', 1651, 'e4,c6,Nc3,d5,exd5,cxd5,Qh5,Nf6,Qf3,Bg4,Qg3,e6,h3,Bh5,Bb5+,Nc6,Nf3,Bd6,Qxg7,Rg8,Qh6,Rg6,Qe3,Bxf3,Qxf3,a6,Bxc6+,bxc6,O-O,Bc7,d3,Qd6,g3,O-O-O,d4,Rdg8,Bf4', 'Qxf4,Qxf4,Bxf4', 'https://lichess.org/training/DuYGR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DuZEZ', 'Rapid', 'Grzegorz52', 1636, 'Bzh22', 1733, 'd4,Nf6,c4,d5,Nc3,e6,cxd5,Nxd5,Nf3,Bb4,Bd2,Nc6,e4,Nxc3,bxc3,Be7,Bd3,O-O,e5,f6,Bf4,fxe5,Bxe5,Nxe5,Nxe5,Bf6,Qh5,g6,Nxg6,hxg6,Qxg6+,Bg7,Qh7+,Kf7,Bg6+,Kf6,g4,Rh8', 'g5+,Ke7,Qxg7+', 'https://lichess.org/training/DuZEZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DUZqB', 'Rapid', 'BorisMatt', 1615, 'C4LRubanS', 1613, 'd4,e5,e3,exd4,exd4,Nf6,Nc3,g6,Bd3,Bg7,Nf3,O-O,O-O,d5,Be3,Bg4,Be2,Nc6,a4,h5,Bg5,Ne7,Ne5,Bxe2,Qxe2,Nf5,b3,Nxd4,Qd3,Nf5,Nxd5', 'Qxd5,Bxf6,Qxd3,Nxd3,Bxf6', 'https://lichess.org/training/DUZqB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DUzy7', 'Bullet', 'IM Minoli', 2622, 'AVYAY_SHARMA', 2143, 'd4,e5,c3,exd4,cxd4,Nf6,Nc3,c5,d5,c4,e4,Bc5,Bxc4,d6,Nge2,Bg4,O-O,Bxe2,Qxe2,h5,Kh1,Ng4,f3,Qh4,fxg4,hxg4,g3,Qh3,Bf4,Nd7,Na4,Nf6,Nxc5,dxc5,e5,O-O-O,Qe3', 'Qxh2#', 'https://lichess.org/training/DUzy7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dv1pJ', 'Blitz', 'fish1800', 1779, 'HamTheKiller', 1781, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d6,c3,O-O,d4,exd4,cxd4,Bb6,Nc3,Bg4,Re1,Nxd4,Be3,Bxf3,gxf3,Nc6,Kh1,Qe7,Rg1,Ne5,Be2,Bxe3,fxe3,c6,f4,Ned7,Bd3,Nc5,e5,dxe5,fxe5,Qxe5,Bc4,Nfe4,Nxe4,Qxe4+,Rg2,Qxc4,Qg1,Qe4,Rf1,Rad8,Rf4,Qd5,e4,Nxe4', 'Rxg7+,Kh8,Rxh7+,Kxh7,Rh4+,Qh5,Rxh5#', 'https://lichess.org/training/dv1pJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dv2I9', 'Blitz', 'BRsharma', 1888, 'bbinn', 1754, 'e4,e5,f4,exf4,Bc4,Be7,d4,Bh4+,Kf1,d5,Bxd5,c6,Bc4,b5,Be2,Ne7,Bxf4,O-O,Nf3,Ng6,Bxb8,Rxb8,Nbd2,Bg4,h3,Bxf3,Nxf3,Bg3,c3,f5,e5,Nf4,a4,bxa4,Rxa4,Rxb2,Nd2,Nxe2,Qxe2,f4,Rxa7,Qb6,Ra1,Rb8,Rd1,Qa5,Qc4+,Kh8,Ke2,Qc7,Kf3,h5,Ne4,Rf8,Nxg3,fxg3+,Kxg3,Qe7,Rhg1,Qg5+,Kh2,Rff2,Qxc6,Qf4+,Kh1,Qg3,Qe4', 'Qxh3+,gxh3,Rh2#', 'https://lichess.org/training/dv2I9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dv3BK', 'Rapid', 'RadioactiveToys', 2007, 'SPITHY', 2066, 'Nf3,Nf6,g3,d5,Bg2,g6,b3,Bg7,Bb2,O-O,c4,e6,O-O,c6,d3,Nbd7,Nbd2,Qc7,e4,dxe4,dxe4,e5,Qc2,Re8,b4,b6,Rfd1,c5,h3,cxb4,Nxe5,Nxe5,f4,Nc6,e5,Nd7,Ne4,Nc5,Nd6,Re7,Nb5,Qb7,Rd8+,Bf8,Rad1,a6,Rxf8+,Kxf8,Rd8+,Re8', 'Rxe8+,Kxe8,Nd6+,Ke7,Nxb7', 'https://lichess.org/training/dv3BK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DV5dN', 'Classical', 'TS_085', 2031, 'Bormatyxa', 2035, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,Nbd2,d6,h3,a6,a3,Ne7,g4,Ng6,Nf1,Be6,Bxe6,fxe6,Qb3,Qc8,Be3,Nxe4,dxe4,Bxe3,Nxe3,Rxf3,Ke2,Rxh3,f3,Nf4+,Kf2,Nd3+,Kg2,Nf4+,Kf2,Nd3+,Kg2,Nc5,Qc2,Rxh1,Rxh1,Qf8,b4,Nd7,Nf1,Qf4,Qf2,Rf8,Rh3,d5,exd5,exd5,Qh4,h6,Qe7,Nf6,Qxc7,Nxg4,Rg3,Rf7,Qc8+,Kh7,Qxg4,Qxg4,fxg4,Rf4,Ne3,d4,Nd5,Re4,c4,d3,c5,d2,Nc3,Re2+,Kf3,Re1,Kf2,d1=Q,Nxd1,Rxd1,Ke2,Rd4,Ke3,Kg6,Rg2,Kg5,Rd2,Rxd2,Kxd2,Kxg4,a4,h5', 'b5,axb5,axb5', 'https://lichess.org/training/DV5dN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dVAaC', 'Classical', 'n4u1234', 1983, 'EmptyLandscape', 1723, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,Bc5,h3,O-O,c3,Na5,Bb5,a6,Ba4,Ba7,Nxe5,d6,Nf3,Nh5,d4,Nc4,b4,Qf6,Qd3,Qg6,Kh2,Nb6,Bc2,d5,Nh4,dxe4,Qe2,Qd6+,g3,Qe6,Qxh5', 'Qxh3+,Kg1,Bg4,Qxg4,Qxg4', 'https://lichess.org/training/dVAaC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dvajd', 'Rapid', 'chessko', 1651, 'abdullah116', 1942, 'e4,e5,d3,Nc6,c3,Nf6,f4,exf4,Bxf4,d6,Nf3,Be7,Be2,O-O,O-O,Bg4,h3,Bh5,Nh4,Bxe2,Qxe2,Nxe4,Nf5,Nf6,Be3,Re8,Qf2,Ne5,Qg3,Nh5,Nh6+,Kf8,Qf2,Bh4', 'Qxf7+,Nxf7,Rxf7#', 'https://lichess.org/training/Dvajd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dvArW', 'Rapid', 'Amalsnemya', 2007, 'gattino', 2031, 'c4,Nf6,Nc3,g6,e4,d6,d4,Bg7,f3,O-O,Be3,e5,d5,Nbd7,Qd2,Nb6,Bh6,c6,Bxg7,Kxg7,Bd3,cxd5,exd5,Qc7,b3,Bd7,Nge2,h5,O-O-O,Qc5,g4,hxg4,fxg4,Bxg4,h3,Bf3,Rhf1,e4,Bc2,Nbd7,Qf4,Nh5,Qh2,Rae8,Rde1,a6,Ng3,b5,Ngxe4,Bxe4,Nxe4,Qd4,Kb1,bxc4,Qxd6,Rd8,Ng5,Ndf6,Qxa6,Qxd5,h4,c3,Rd1,Ra8,Qb6,Qa5,Qxa5,Rxa5,Rd3,Rfa8,a4,Rc8,Rff3,Rac5,b4,R5c7,b5,Ng4,Ne4,Ne5,Rxc3', 'Nxf3,Rxc7,Rxc7', 'https://lichess.org/training/dvArW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dvb7f', 'Rapid', 'terserahkau', 1886, 'SushimChaturvedi', 1651, 'e4,e5,Nf3,Nf6,d3,Bc5,Be2,Nc6,Nc3,d6,Bg5,h6,Bh4,g5,Bg3,Bg4,Qd2,Qd7,a3,O-O-O,b4,Bd4,Nxd4,Nxd4,Bxg4,Qxg4,Nd5,Nxd5,exd5,h5,h3,Qf5,O-O-O,h4,Bh2,Kb8,Kb2,Rc8,g3,hxg3,Bxg3,c5,dxc6,Rxc6,h4,Rxc2+,Qxc2,Nxc2,Kxc2,Rc8+,Kb3,Qe6+,Kb2,gxh4,Rxh4,Qd7,Rc4,Rxc4,dxc4,Qg4,Rxd6,Qxc4,Rd1,Qe2+,Kc1,Qc4+,Kd2,f6,Rc1,Qb3,Rc3,Qb2+,Kd3,Qb1+,Ke3,Qf5,b5,Qg5+,Kd3,Qf5+,Kc4,Qe4+,Kb3,Qd5+,Kb4,a6,bxa6,bxa6,a4,a5+,Ka3,Qb7', 'Rb3,Ka7,Rxb7+', 'https://lichess.org/training/dvb7f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dvbEO', 'Rapid', 'aandreyev', 2178, 'Arslan1973', 2086, 'e4,d6,d4,g6,c4,Bg7,Nc3,Nc6,Be3,e5,Nge2,Bg4,f3,Bd7,d5,Nce7,b4,a5,a3,f5,c5,Nf6,b5,fxe4,fxe4,O-O,c6,bxc6,bxc6,Ng4,Bg1,Bc8,h3,Nf6,Be3,Ba6,Ng3,Bxf1,Rxf1,Qc8,Rb1,Qa6,Qe2,Qxe2+,Kxe2,Rab8,Nb5,Ne8,a4,Nc8,Ba7,Nxa7', 'Nxa7,Rxb1,Rxb1', 'https://lichess.org/training/dvbEO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DvbxK', 'Rapid', 'lukos05', 1703, 'blurtime', 1652, 'd4,d5,e3,c5,dxc5,e6,b4,a6,c4,Nf6,cxd5,Qxd5,Nc3,Qxd1+,Nxd1,Nc6,b5,axb5,Bxb5,Bxc5,Nf3,O-O,O-O,Ne5,Nxe5,Ne4,f3,Nd6,Nd3,Ba7,Ba4,Nc4,Bb5,Nd6,Ba3,Bxe3+,Nxe3,Rxa3,Nc4,Rxd3,Nxd6,Rxd6,Rab1,h5,a4,e5,Rb4,f6,Rfb1,Rf7,Bc4,Be6,Bxe6,Rxe6,Rxb7,Rxb7,Rxb7,Ra6,Rb4,Kf7,Kf2,Ke6,Ke3,Kd5,Rb5+,Ke6,a5,Kd6,Kd3,Kc6,Kc4,g5,Rc5+,Kd6,Kb5', 'Rxa5+,Kxa5,Kxc5', 'https://lichess.org/training/DvbxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dVCWH', 'Rapid', 'Komil92', 1613, 'cabezadechota', 1665, 'e4,e6,d4,d5,Nc3,Bb4,Bd3,Nc6,Nf3,Nge7,Bd2,Bxc3,Bxc3,O-O,Qe2,dxe4,Bxe4,f5,Bd3,Nd5,Bd2,a6,O-O-O,b5,Kb1,b4,h4,a5,h5,a4,h6,g6,g4,f4,Ne5,Nxd4,Qe4,Bb7,Nxg6', 'Nc3+,Bxc3,Bxe4', 'https://lichess.org/training/dVCWH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVdjA', 'Rapid', 'deckchair', 1884, 'keres9090', 1997, 'd4,e5,d5,Nf6,e4,Bc5,f3,Nxe4,fxe4,Qh4+,g3,Qxe4+,Qe2,Qxh1,Qxe5+,Kd8', 'Bg5+,f6,Bxf6+,gxf6,Qxf6+,Ke8,Qxh8+', 'https://lichess.org/training/DVdjA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVeeV', 'Blitz', 'EvilI', 1529, 'DNGC67', 1515, 'b3,d5,Bb2,d4,e3,dxe3,fxe3,c5,Bc4,Nc6,Qf3,e6,Nc3,a6,Ne4,b5,Be2,Bb7,O-O-O,Nb4,d4,Nxa2+,Kb1,Nb4,dxc5,Bxc5,Rxd8+,Rxd8,Bxg7,f5,Qh5+,Ke7,Bxh8,Bxe4,Qxh7+,Kf8,Qg7+,Ke8,Qxg8+,Kd7,Qg7+,Kc8,Nh3,Bxe3,Qc3+,Kb8,Qxe3,Bxc2+,Kb2,Be4,Qb6+,Kc8,Be5,Rd2+,Ka3,Nd5,Qc6+,Kd8,Qd6+,Kc8,Qxe6+,Kb7,Qf7+,Kc6,Qg6+,Kb7,Rc1', 'b4+,Ka4,Ra2#', 'https://lichess.org/training/DVeeV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVePd', 'Rapid', 'Steve_3131', 1689, 'yssoor', 1753, 'e4,e5,Nf3,d6,h3,Be6,c3,Qd7,d4,exd4,cxd4,c6,Nc3,f6,d5,cxd5,exd5,Bf5,Bb5,Nc6,dxc6,bxc6,Qe2+,Be7,Ba4,Nh6,Nd5,Nf7,Nxe7,Qxe7,Qxe7+,Kxe7,Bxc6,Rac8,Nd4,Bd3,Kd2,Ba6,Re1+,Kf8,Ne6+,Kg8,Bd5,h6,Nf4,Rc5,Bxf7+,Kxf7,b4,Rc4,Nd3,Rd4,Re3,Re8,Bb2', 'Rxe3,fxe3,Rxd3+', 'https://lichess.org/training/DVePd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVERF', 'Classical', 'ArsenArshakyan', 1753, 'ghahramanekoochak', 2017, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,Bg4,h3,Bh5,g4,Bg6,Nc3,Qe6,Qe2,Nd4,Nxd4,exd4,Qxe6+,fxe6,Ne4,O-O-O,Ke2,Be7,f4,h6,Bd2,Rdf8,Rhf1,Rf7,Rf3,Rhf8,Raf1,b6,c3,Bxe4,dxe4,Bc5,cxd4,Bxd4,Bc3,Bxc3,bxc3,Kd7,e5,Kc6,Kd3,Kd5,f5,exf5,gxf5,Kxe5,Re1+,Kd6,Re6+,Kd7,Ke4,Re8', 'Rd3+,Kc8,Rxe8+', 'https://lichess.org/training/DVERF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVF0A', 'Rapid', 'loser69', 1746, 'bestskier', 1928, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nf5,Qf6,Nc3,g6,Nd5,Qe5,Ng3,Nf6,Bf4,Qxb2,Nxc7+,Kf8,Nxa8,Bb4+,Bd2,Bxd2+,Kxd2,Nd4,Rb1,Qxa2,Bd3,Qa5+,c3,Qa2+,Ke1,Qa5,Rb4,d6,Rxd4,Qxc3+,Kf1,Qxd4,f3,d5,Ke2,Nxe4,Bxe4,Qxd1+,Rxd1,dxe4,Rd8+,Kg7,Rxh8,Kxh8,Nxe4,Bd7,Kd2,f5,Nc5,Bc6,Nc7,Kg7,N7e6+,Kf6,Nd4,h5,Nxc6,bxc6,Na6,Ke5,g3,Kd4,Nc7,a5,Ne6+,Kc4,Kc2,a4,Nf4,a3,Ne2,c5,Nc3,Kb4,Na2+,Ka4,Kc3,Ka5,Kb3,Kb5,Kxa3,c4,Nc3+,Kc5,Kb2,Kd4,Kc2,Ke3,f4,Kf3,Nd5,Kg2,Ne7', 'Kxh2,Nxg6,Kxg3,Kd2,h4', 'https://lichess.org/training/DVF0A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DvF8d', 'Bullet', 'qnslvlthree', 1829, 'craural95', 1850, 'e4,c5,Nf3,d6,d4,cxd4,c3,e6,cxd4,Nf6,Bd3,Be7,Nc3,Nc6,O-O,e5,d5,Nb4,h3,Nxd3,Qxd3,O-O,Be3,a6,Rac1,b5,a3,Bb7,Nh2,Rc8,f4,Re8,fxe5,dxe5,Kh1,Nd7,Bd2,Nc5,Qf3,f6,Ne2,Qd7,Ng3,g6,Ng4,Rf8,Nh6+,Kg7,Ng4,Kh8,Qe3,Rf7,Nh6,Rg7,Ngf5,Bf8,Nxg7,Bxg7,Ng4,Rf8,Qxc5,f5,exf5,gxf5,Nh6,Bxd5,Qc7,Qe6,Qc5,f4,Bc3', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/DvF8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dvfNt', 'Blitz', 'Johnwild152', 2182, 'JTELLO', 2161, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,Be7,Re1,O-O,c3,d5,d3,dxe4,dxe4,Qxd1,Bxd1,Bg4,Bc2,Bxf3,gxf3,Na5,f4,exf4,Bxf4,c5,e5,Nd5,Bg3,Rad8,Nd2,c4,Ne4,Nc6,Rad1,a5,Nd6,Nc7,Be4,Nb8,Rd2,Bxd6,exd6,Ne6,Red1,Nc5,Bc2,f5,Be5,Nbd7,f4,g5,b4,cxb3,Bxb3+,Nxb3,axb3,gxf4', 'Rg2+,Kf7,Rg7+,Ke6,Re7#', 'https://lichess.org/training/dvfNt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dvG3H', 'Rapid', 'shahmizani', 2141, 'NM vrekhson', 2186, 'e4,c5,Nf3,a6,a4,Nc6,Nc3,e6,d4,cxd4,Nxd4,Bc5,Nxc6,bxc6,Be2,Nf6,O-O,O-O,Bg5,h6,Bh4,d6,e5,dxe5,Qxd8,Rxd8,Ne4,Be7,Rfd1,Rd5,Bc4,Rd4,Rxd4,exd4,Bxf6,gxf6,Rd1,e5,c3,Bf5,Ng3,Bc2,Rd2,Bxa4,cxd4,Rd8,Nf5,Bf8,Rd3,Bc2,Rg3+,Kh7,Ne3,Bg6,dxe5,fxe5,Bxa6,f5,Nf1,Rd1,Rd3,Rxd3,Bxd3,e4,Ba6,Kg7,Bb7,c5,Ne3,Kf6,Kf1,Ke5,Ke2,Kd4,g3,Bd6,Bc8,f4,gxf4,Bxf4,Nf5+,Bxf5,Bxf5,Bxh2,Bg6,Bf4,b3,Bc1,Bf7,Kc3,Ke1,h5,Kd1,h4,Kxc1', 'h3,Bd5,Kd4', 'https://lichess.org/training/dvG3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DvgMn', 'Blitz', 'GM Pap-G', 2617, 'IM Mamikon_Gharibyan', 2580, 'c4,e6,Nc3,d5,d4,Bb4,a3,Bxc3+,bxc3,c5,cxd5,exd5,e3,Nf6,Bd3,b6,Ne2,O-O,O-O,Ba6,Bxa6,Nxa6,f3,Re8,Ng3,Nc7,Ra2,Nb5,Qd3,Nd6,Re2,Rc8,e4,Nc4,e5,Nd7,f4,cxd4,cxd4,f6,e6,Nb8,f5,Nc6,Nh5,Qd6,Bh6,Re7,Qh3,Nxd4,Nxf6+,gxf6', 'Qg4+,Kh8,Qxd4', 'https://lichess.org/training/DvgMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVh8Q', 'Rapid', 'hany3zal', 1717, 'Djoradjon', 1608, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,Bb4,a3,Bxc3+,bxc3,b6,Bf4,Bb7,Be2,Nd7,O-O,h6,Ne5,Nxe5,Bxe5,Nf6,Bf3,c6,Re1,O-O,c4,Nd7,d5,Nxe5,Rxe5,exd5,cxd5,Qf6,dxc6,Bxc6,Bxc6,Qxc6,Re3,Rad8,Rd3,Qf6,Rb1,Rxd3,cxd3,Rd8,Rc1,Qb2,h3,Qxa3,d4,Rxd4', 'Rc8+,Qf8,Rxf8+', 'https://lichess.org/training/DVh8Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dvhB1', 'Classical', 'scitwi', 1923, 'Igraisam', 2005, 'e4,d5,exd5,Qxd5,d4,e6,Nf3,Nf6,Nc3,Qd8,Bg5,Be7,Qd2,c6,h4,h6,Bf4,Nbd7,O-O-O,Nb6,g4,Nxg4,Rg1,h5,Ne5,Bxh4,Nxg4,hxg4,Rxg4,Bf6,Ne4,g6,Nxf6+,Qxf6,Be5,Qf5,Rf4,Qh5,Be2,Qh7,d5,Nxd5,c4,Nxf4', 'Qd8#', 'https://lichess.org/training/dvhB1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dViqW', 'Rapid', 'djela', 1705, 'MaikyLK', 1739, 'd4,Nf6,Bf4,d6,e3,g6,h3,Bg7,Nf3,Nbd7,g4,c5,c3,cxd4,cxd4,Qa5+,Qd2,Qxd2+,Nbxd2,O-O,Bg2,Re8,O-O,Rb8,Rac1,b6,Nc4,Ne4,Na3,e5,dxe5,dxe5,Nxe5,Bxe5,Bxe5,Rxe5,Nc4,Re8,Bxe4,Rxe4,Nd6,Ra4,Rxc8+,Rxc8,Nxc8,Rxa2,Rd1,Ne5,f4,Nc4,b3,Nxe3,Rd8+,Kg7,g5,b5,Ne7,h6,Rg8+,Kh7,Rf8,hxg5,Rxf7+,Kh6', 'Ng8+,Kh5,Rh7#', 'https://lichess.org/training/dViqW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVJJD', 'Rapid', 'Soulahmohamnedkamal', 2081, 'hansip', 2239, 'd4,d5,c4,dxc4,e3,Nf6,Nc3,e6,Nf3,Bd6,Bxc4,a6,O-O,b5,Bd3,Bb7,e4,Be7,a3,O-O,Bg5,h6,Bd2,c5,e5,Nd5,dxc5,Bxc5,Qe2,Nxc3,Bxc3,Nd7,Rfd1,Qe7,Bc2,Rad8,Rd2,Rfe8,Rad1,Nf8,Rxd8,Rxd8,Rxd8,Qxd8,Nd2,Qg5,Be4,Bxe4,Nxe4,Qc1+,Qf1,Qxf1+,Kxf1,Bb6,Ke2,Nd7,f3,Nc5,Nxc5,Bxc5,Kd3,Kf8,Bd4,Be7,Ke4,Ke8,h3,Kd7,g4,g6,f4,Kc6,f5,a5,fxg6,fxg6,Bc3,b4,axb4,axb4,Bd4,g5,Ke3,Kd5,Kd3', 'Bc5,Bxc5,Kxc5', 'https://lichess.org/training/DVJJD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dvk4H', 'Rapid', 'Radio64', 2096, 'Nickup', 2133, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Bg5,Nbd7,Qd2,c5,d5,a6,a4,Qa5,Nf3,Ng4,h3,Nge5,Bxe7,Re8,Bxd6,Nxf3+,Bxf3,Nb6,Bc7,f5,O-O,fxe4,Bxb6,Qxb6,Nxe4,Bf5,Ng3,Bd7,Rae1,Bxa4,d6,Qxb2,Qxb2,Bxb2,Bxb7,Rab8,Rxe8+,Rxe8,Ne4,Bd4,Re1,Kg7,Bxa6,Bc6,Bb5', 'Rxe4,Rxe4,Bxe4,d7,Bf6', 'https://lichess.org/training/Dvk4H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVKQQ', 'Rapid', 'Manuel69', 1915, 'KonOrian', 1843, 'Nc3,Nf6,e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,d3,Be7,Nd2,a6,Bxc6,Bxc6,Nb3,O-O,Bg5,h6,Bh4,Qd7,f3,Nh7,Bxe7,Qxe7,Na5,Qd7,a4,b6,Nxc6,Qxc6,Ne2,b5,axb5,axb5,Rxa8,Rxa8,c3,Nf6,Qb3,Qd7,c4,Rb8,cxb5,Rxb5,Qc3,c5,Ra1,Qb7,Rb1,d5,exd5,Nxd5,Qxe5,Nb4,Qc3,Qb6,Kf1,Na2,Qa3', 'Ra5,Qxa5,Qxa5', 'https://lichess.org/training/DVKQQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVl5V', 'Rapid', 'panchous', 1716, 'sashaplast', 1801, 'd4,d5,c4,dxc4,Nc3,e6,Nf3,Bb4,Qa4+,Nc6,e3,Bd7,Qc2,Nf6,Bxc4,O-O,O-O,a6,a3,Bxc3,bxc3,b5,Bd3,h6,Rb1,Re8,a4,e5,axb5,axb5,Bxb5,e4,Nd2,Rb8,Ba3,Nxd4,cxd4,Rxb5,Rfc1,Qa8,Ra1,Qb8,Qxc7,Be6,Bd6,Qxc7,Rxc7,Nd5,Rca7,Nc3,Rc7,Nd5,Rca7,Bf5,R7a5,Nc3,Rxb5,Nxb5,Bg3,Nc3,Kf1,Rc8,Nb3,Nd5,Nc5,Bg6,h3,Kh7,Bh2,Rc6,g4,Rb6,h4,h5,gxh5,Bxh5,Nxe4,f6,Ng3,Bf3,Kg1,Rb2,Nf5,Kg6,Nd6,Nxe3,fxe3,Rg2+,Kf1,Rxh2,Ra5,Rxh4,Kf2,Bh5,Ra7,Rh2+,Kg3,Re2,Ne8', 'Rxe3+,Kf4,Rxe8', 'https://lichess.org/training/DVl5V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dvlc2', 'Rapid', 'SheepNL', 2075, 'Old_Firehand', 2262, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nc6,Ne2,Bd6,O-O,Nge7,Bg5,f6,Bh4,O-O,c3,Bf5,Re1,Qd7,Qc2,Rfe8,Nd2,Bxd3,Qxd3,Qf5,Qxf5,Nxf5,Bg3,Nxg3,Nxg3,g6,Kf1,Kf7,Nf3,h5,a4,a5,Nd2,b6,h4,Bxg3,fxg3,Ne7,Kf2,Nf5,Nf1,c6,Ne3,Nd6,Nc2,Ne4+,Kf3,Re7,Ne3,Rae8,g4,hxg4+,Nxg4,Nd2+,Kf2,Nc4,Rxe7+,Rxe7,b3,Nb2,Rb1,Nd3+,Kf3,Re4,g3,f5,Nf2', 'Ne1+,Rxe1,Rxe1', 'https://lichess.org/training/dvlc2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DvLw3', 'Rapid', 'nuria666', 1751, 'Mokatown', 1751, 'e4,d6,Nf3,Nd7,Nc3,c6,d4,e5,Bc4,Qe7,Ng5,Nh6,d5,Nb6,Bb3,c5,a4,a5,Nb5,Ng8,O-O,h6,Nf3,Qd8,c4,Ne7,Be3,Ng6,Qd2,Bg4,Qe2,Rc8,h3,Bd7,Bd2,Ra8,Nh2,Be7,f4,exf4,Bxf4,Nxf4,Rxf4,O-O,e5,Bxb5,axb5,dxe5,Re4,Bd6,Ng4,Nd7,Re1,f5,Nxh6+,gxh6,Qh5,Kh7,Rh4,Qf6,Bc2,e4,Rf1,Qg6,Qe2,Bg3,Rxe4,Rf7,Re7,Kg8,Rxf7,Qxf7,Rxf5,Qe8', 'Qg4+,Kh8,Qxg3', 'https://lichess.org/training/DvLw3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dVMMY', 'Classical', 'Yogeshgupta', 1635, 'Jara_H', 1722, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e6,Nc3,Bc5,Be3,Qf6,Bd3,Bxd4,Bxd4,Qxd4,O-O,Nc6,a3,Nge7,Re1,d5,h3,b5,Rb1,Ne5', 'Bxb5+,axb5,Qxd4', 'https://lichess.org/training/dVMMY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVnnp', 'Blitz', 'SchoolyardBully', 1815, 'shshkbrd', 1800, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h5,Nf3,Nf6,Bd3,Bxd3,Qxd3,Nbd7,Bd2,Qc7,O-O-O,e6,Rhe1,O-O-O,c3,Kb8,Kb1,Ka8,Ng5,Nb6,N3e4,Nfd5,Qf3,f6,Nxe6,Qd7,Nxd8,Qxd8,Nc5,Bxc5,dxc5,Nc4,Be3,Re8,Bd4', 'Rxe1,Rxe1,Nd2+,Ka1,Nxf3', 'https://lichess.org/training/DVnnp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dvnoh', 'Rapid', 'Wenigmeister', 1720, 'Diegoajedrez12', 1634, 'e4,c6,e5,d5,d4,Bf5,Nd2,e6,c3,c5,b4,cxd4,cxd4,Bxb4,Qb3,Nc6,a3,Bxd2+,Bxd2,Nxd4,Qxb7,Nc2+,Kd1,Nxa1', 'Bb5+,Kf8,Bb4+,Ne7,Bxe7+', 'https://lichess.org/training/Dvnoh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dVnr0', 'Blitz', 'LittleGreenMan', 1527, 'TurtleCoach34', 1592, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Be7,Bxc6,dxc6,Nxe5,O-O,Nc3,Bd6,f4,Ng4,Nxg4,Qh4+,Nf2,Bxf4,Bxf4,Qxf4,Qf3,Qe5,O-O-O,Be6,Ng4,Qg5+,Ne3,b5,h4,Qh6,g3,b4,Na4,Rab8,g4,g6,g5,Qg7,Rdg1,Bxa2,h5,Rb5,hxg6,fxg6,Qh3,Ra5,b3', 'Qa1+,Kd2,Rf2#', 'https://lichess.org/training/dVnr0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dVo5T', 'Classical', 'whatisit', 1860, 'Lalih4507', 1875, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d5,exd5,Nxd5,O-O,O-O,a4,a6,b4,Ba7,b5,axb5,axb5,Nce7,Kh1,Be6,Bxd5,Nxd5,c4,Nf4,Nxe5,Qf6,Bb2,Rfd8,Qf3,Nxd3,Qxf6,gxf6,Nxd3,Rxd3,Bxf6,Bxc4,Na3', 'Rxa3,Rxa3,Bxf1', 'https://lichess.org/training/dVo5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DvoMM', 'Blitz', 'hosseinvardastian', 2295, 'FM Wuchtig', 2385, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,cxd4,cxd4,Bd7,O-O,Nxd4,Nxd4,Qxd4,Nc3,a6,Re1,Rc8,Qf3,Bc5,a3,Qh4,g3,Qe7,Qg4,Qf8,Bg5,h6,Bd2,h5,Qh4,Ne7,b4,Ba7,Rac1,Ng6,Qg5,Ne7,Ne2,Bb6,Rxc8+,Nxc8,Qh4,Bd8,Bg5,Bb6,Nf4,Ne7,Nxh5,Ng6,Qg4,Ne7,Bxe7,Qxe7,Nxg7+,Kd8,Nh5,Kc7,Nf6,Ba4,Rc1+,Kb8,Qg7,Rd8,h4,a5,Rb1,axb4,axb4,Qc7,h5,Qxe5', 'Nd7+,Rxd7,Qxe5+', 'https://lichess.org/training/DvoMM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVqwJ', 'Rapid', 'maknyus_carlsen', 1880, 'igor0808', 1883, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,Nf6,cxd5,exd5,Ne5,Bxc3+,bxc3,O-O,f3,Bf5,Bg5,h6,Bh4,Qd6,Bxf6,Qxf6,e4,dxe4,fxe4,Bxe4,Qe2,Bf5,Qf3,c6,Bc4,Nd7,O-O,Nxe5,dxe5,Qxe5', 'Qxf5,Qxf5,Rxf5', 'https://lichess.org/training/DVqwJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dvr9J', 'Rapid', 'RaJAbHi_007', 1970, 'Lord_17', 1864, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,Bxc3+,bxc3,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,Bg5,h6,Bh4,c6,Qf3,g5,Bg3,Re8,Rfe1,Bg4', 'Rxe8+,Qxe8,Qxf6', 'https://lichess.org/training/Dvr9J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dvu55', 'Rapid', 'gusoku', 1892, 'musicpawn', 1653, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,e6,a3,Nf6,Nf3,Nc6,d3,Be7,h3,O-O,Be3,Re8,Qd2,a6,O-O,b5,Ba2,Bb7,b4,h6,Ne2,Nd5,Bxd5,Qxd5,Nf4,Qd8,Nh5,Bf6,Bxh6,Bxa1,Rxa1,Nd4,Ne5,gxh6', 'Qxh6,Nf5,Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/Dvu55');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dvUhr', 'Blitz', 'dragongana', 2257, 'annecy22', 2206, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Nc6,Bc4,Bd7,h4,Qa5,O-O-O,Rfc8,Bb3,Ne5,h5,Rxc3,bxc3,Nxh5,Bh6,Bxh6,Qxh6,Qxc3,Ne2,Qc5,Kb1,Rc8,Nf4,Nc4,Nxh5,gxh5,Rxh5,Na3+,Kc1', 'Qxc2+,Bxc2,Rxc2#', 'https://lichess.org/training/dvUhr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dvuv5', 'Rapid', 'wack', 1848, 'farininho', 1634, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Be6,Nf3,Nf6,Bg5,Be7,e3,O-O,Bd3,c6,Ne5,Nbd7,O-O,Nxe5,dxe5,Ng4,Bf4,f6,exf6,Bxf6,f3,Ne5,Bc2,Qb6,Na4,Qd8,Rb1,b5,Nc5,Re8,b3,Nd7,Nxe6,Rxe6,Qd3,g6,Rbc1,Ne5,Bxe5,Bxe5,Rfd1,Qh4,f4,Bf6,Bb1,Rae8,Re1,b4,g3,Qg4,Kg2,Bc3,Re2,Qf5,Qxc3,Qxb1,Qxc6', 'Qe4+,Kg1,Rxc6', 'https://lichess.org/training/dvuv5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DVVus', 'Rapid', 'ylaj', 1787, 'hegzo', 1700, 'e4,d5,exd5,Nf6,Bb5+,c6,dxc6,Nxc6,Nf3,a6,Bc4,Nd4,Ne5,e6,d3', 'Qa5+,c3,Qxe5+', 'https://lichess.org/training/DVVus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dvyQL', 'Classical', 'Paky', 1814, 'Rikov', 1774, 'd4,e6,e4,d5,e5,c5,c3,Nc6,dxc5,Bxc5,b4,Bb6,Nf3,Nge7,Bd3,Ng6,Bxg6,fxg6,Bg5,Qc7,Qe2,O-O,O-O,Bd7,Re1,Rf5,Nbd2,Nxe5,Nxe5,Rxf2,Qxf2,Bxf2+,Kxf2,Qb6+,Be3,Qc7,Bd4,Rf8+,Kg1,Bb5,Ndf3,a5,a4,Be8,b5,Qe7,Nd3,g5,Bc5,Qf6,Bxf8,Kxf8,Rf1,Kg8,Nde5,h5,Rae1,Qf4,Nd4,Qd2,Nxe6,Qxc3,Rf8+,Kh7,Nxg5+,Kh6,Ngf3', 'Qc5+,Kh1,Qxf8', 'https://lichess.org/training/dvyQL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dW1WK', 'Blitz', 'UE2000', 1764, 'AxelCh', 1772, 'e4,e6,c3,d5,e5,c5,d4,Nc6,Bb5,Qb6,Bxc6+,bxc6,Qb3,cxd4,Qxb6,axb6,cxd4,c5,Nf3,Ba6,Be3,Nh6,h3,Nf5,Nc3,Be7,Ne2,O-O,a3,Rfc8,Ng3,g6,Nxf5,gxf5,Kd2,Kg7,Rhc1,c4,Bg5,Bf8,Bf6+,Kg8,Ng5,Bg7,Be7,Rc7,Bd6,Rc6,h4,h6,Nf3,Bf8,Bb4,Bb7,Bc3,b5,Ke3,Rb6,Bd2,b4,a4,Rba6,a5,Rxa5,Rab1,Rc8,Nh2,Ra6,g4,fxg4,Nxg4,Be7,Nxh6+,Kg7,Ng4,Bxh4,Kf3,Rac6,Rg1,Kf8,Rh1,Be7,Rh8+,Kg7,Rbh1,Rxh8,Bh6+,Kg8,Rg1,Kh7,Be3,Rg8,Rh1+,Kg7,Bh6+,Kg6,Rg1,Kh7,Rh1,Kg6,Rg1,Rh8,Be3,Kg7', 'Nf6+,Kf8,Bh6+,Rxh6,Rg8#', 'https://lichess.org/training/dW1WK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dw28d', 'Blitz', 'Kehinde', 1980, 'Dart_Ziel', 1995, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bg4,h3,Bxf3,Qxf3,Nf6,Nc3,e6,O-O,Be7,Re1,O-O,Bxc6,bxc6,Bg5,h6,Be3,Rb8,Rab1,Qa5,Qg3,Kh8,a3,Qd8,Bf4,Nh5,Bc7,Nxg3,Bxd8,Rfxd8,fxg3,Bf6,Ne2,Kg8,c3,Kf8,b4,Ke7,a4,Kd6,Nc1,a5,Nd3,axb4,Nxb4,c5', 'dxc5+,Kd7,c6+,Kc8,c7', 'https://lichess.org/training/dw28d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dw3ec', 'Classical', 'vassa', 1727, 'Feluda2008', 1870, 'd4,Nf6,Nf3,e6,c4,d5,e3,c5,Nc3,Nc6,cxd5,exd5,Be2,Be7,O-O,cxd4,exd4,O-O,Bg5,h6,Bh4,Bg4,Re1,Re8,Bb5,a6,Ba4,b5,Bb3,Bxf3,Qxf3,Nxd4,Qd3,Nxb3,axb3,g5,Bg3,b4,Ne2,Bd6,Nd4,Bxg3,hxg3,Ne4,f3,Nxg3,Kf2,Qd6,Rac1,Rxe1,Rxe1,Rc8,Re3,Nh1+,Ke2,Qh2,Kd2,Qxg2+,Re2,Qh3,Nf5,Kf8,Qxd5,Ng3,Qd6+,Kg8,Nxg3,g4,Nf5,Kh7,Qd3,Qxf3,Ne3+,Kg8,Rg2,h5,Qd5', 'Qxd5+,Nxd5,Rd8', 'https://lichess.org/training/dw3ec');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dw3Tf', 'Rapid', 'nabikom', 1800, 'faisal_huladu123', 1794, 'e4,e5,Nf3,d6,d4,Nc6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bc4,Be6,Bxe6,fxe6,O-O,h6,Nc3,a6,f4,Bc5+,Kh1,exf4,Bxf4,Nf6,Rad1+,Ke7,Bxc7,Rac8,Be5,Rhf8,a3,g5,h3,b5,Ne2,Nxe4,Kh2,Bd6,Bxd6+,Nxd6,c3,Rc4', 'Rxf8,Kxf8,Rxd6', 'https://lichess.org/training/Dw3Tf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dw5vt', 'Rapid', 'Karelust', 2203, 'Enterrador', 2087, 'e4,c6,d4,d5,f3,Nd7,a3,Nb6,Nc3,e6,e5,Ne7,Bd3,Qc7,Bf4,Ng6,h3,Nxf4,Qd2,Nxd3+,cxd3,g6,Rc1,h5,f4,Qe7,Nf3,Bd7,O-O,Bh6,g3,O-O,Kh1,f6,exf6,Rxf6,Ne5,Be8,Rf2,Nd7,Nf3,Bf7,Na4,Rf8,h4,e5,dxe5,Nxe5,Nxe5,Qxe5,fxe5,Bxd2,Rxd2,Rf3,Kg2,Be6,Nc5,Bc8,Re1,b6,e6,R3f6,e7,Re8,Nb3,Kf7,Nd4,Bd7,b4,c5,bxc5,bxc5,Nb3,Rc6,Rc2,c4,Nd4,Rc7,dxc4,dxc4,Re3,Bf5,Nb5,Bxc2', 'Nd6+,Kg8,Nxe8,Rxe7,Rxe7', 'https://lichess.org/training/Dw5vt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DWavG', 'Rapid', 'CHECKPIT', 2013, 'AnasBetis94', 2015, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,d6,e3,c6,Nge2,Bg4,h3,Be6,d3,O-O,O-O,d5,cxd5,Nxd5,d4,Qc8,Kh2,Rd8,Nxd5,Bxd5,Bxd5,cxd5,Bd2,Nd7,Qb3,Nf6,Rac1,Qd7,Bb4,a5,Ba3,a4,Qb4,Bf8,Qd2,Ne4,Qd3,Bg7,Nc3,Ng5,g4,e5,dxe5,Bxe5+,f4,Bxc3,Rxc3,Ne4,Rc2,Rac8,Rfc1,Rxc2+,Rxc2,f5,g5,Kf7,Kg2,Kg8,b3,axb3,axb3,b5,Bb2,Qe7,Qd4,Kf7,Qg7+,Ke6,Rc6+,Rd6,Qe5+,Kd7,Qxe7+,Kxe7,Ba3,Kd7,Rxd6+,Nxd6,Bxd6', 'Kxd6,b4,d4', 'https://lichess.org/training/DWavG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DWbK8', 'Rapid', 'Hanlet', 1670, 'Mihasi_md', 1950, 'e4,c5,c3,e6,d4,cxd4,cxd4,d5,exd5,exd5,Nf3,Nf6,Nc3,Be7,Be3,O-O,Bd3,Nc6,O-O,Bg4,h3,Bh5,Be2,Re8,Qd3,Nb4,Qd2,Ne4,Nxe4,dxe4,Ne5,Bxe2,Qxe2,Rc8,a3,Nc2,Rac1,Nxe3,Rxc8,Qxc8,Qxe3,Bd6,Qxe4,Qe6,f4,f6,d5,Qc8,Re1,fxe5,fxe5,Rxe5,Qh4,Rxe1+,Qxe1,Qc5+,Kh1,Qxd5,b4,Bf8,a4,h6,b5,Bd6,b6,Qe5', 'Qxe5,Bxe5,bxa7', 'https://lichess.org/training/DWbK8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dwCRE', 'Rapid', 'Reykjavik-1972', 1908, 'hikjdb', 1696, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,d4,d5,Nxe5,Bd7,f3,Nxe5,Bxd7+,Nxd7,fxe4,dxe4,Nc3,Nf6,Re1,Bb4,Bg5,Bxc3,Rxe4+,Kf8,bxc3,Qd5,Re5,Qc6,Qe1,Ng4,Be7+,Kg8,Rc5,Qd7,Bh4,Re8,Qd2,f6,Bg3,c6,Re1,Kf7,h3,Rxe1+,Bxe1,Nh6,Qd3,Re8,Qc4+,Kf8,Bg3,Nf5,Bh2,Re1+,Kf2,Qe7,Bf4,Nd6', 'Bxd6,Qxd6,Kxe1', 'https://lichess.org/training/dwCRE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DwE9z', 'Rapid', 'T0RN4D0', 1877, 'fc59', 2003, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,h3,Bf5,Be2,e6,O-O,Bb4,Bd2,Nbd7,a3,Bxc3,Bxc3,Qd5,Re1,O-O,Bf1,Be4,Ne5,Nxe5', 'dxe5,Qxd1,Raxd1', 'https://lichess.org/training/DwE9z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dwfCY', 'Rapid', 'elfgm', 1633, 'doug_007', 1632, 'd4,Nf6,Nc3,g6,e4,d6,f4,Nbd7,Be3,Bg7,Nf3,O-O,Bd3,Ng4,Bd2,e5,d5,exf4,Bxf4,Bxc3+,bxc3,Qf6,Qd2,Nc5,e5,dxe5,Bxe5,Nxe5,O-O,Nexd3,cxd3,Qe7,Rae1,Qd8,Qh6,Nxd3', 'Ng5,Qxg5,Qxg5', 'https://lichess.org/training/dwfCY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dWGKt', 'Rapid', 'matisko', 1761, 'ralfjoseflieb', 1768, 'e4,e5,Bc4,Nf6,Nc3,Nc6,Nf3,d6,Ng5,h6', 'Nxf7,Qd7,Nxh8', 'https://lichess.org/training/dWGKt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DWgnl', 'Rapid', 'Tutevych', 1786, 'kergedan11', 1951, 'd4,d5,Bf4,Nf6,e3,c6,Bd3,Qb6,b3,g6,c4,dxc4,Bxc4,e6,Nc3,Bb4,Ne2,O-O,O-O,Nd5,Na4,Qd8,Bxd5,cxd5,Bxb8,Rxb8,Nc5,b6,Nd3,Bd6,Rc1,Bb7,Rc2,Rc8,Qd2,Rxc2,Qxc2,Qd7,Rc1,Rc8,Qd2,Rxc1+,Qxc1,Qb5,Qc3,Ba6,Nec1,Bb4', 'Qxb4,Qxb4,Nxb4', 'https://lichess.org/training/DWgnl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dwhc2', 'Blitz', 'alpypy', 1527, 'MindSpaceX', 1564, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Be7,Bc4,Bf6,Qd5,Qe7,Bf4,c6,Qxf7+,Qxf7,Bxf7+,Kxf7,Bxd6,Bxb2,Ng5+,Kf6,f4,Bxa1,e5+,Kf5,g3,Be6,g4+,Kxf4,Nh3+,Kxg4,Nf2+,Kf5,Rf1,Kg6,Ne4,Nd7,h4,h5,Rg1+,Kf7,Ng5+,Ke8,Nxe6,Bxe5,Bxe5,Nxe5,Nxg7+,Kd7,Rg5,Ng4,Nd2,N8f6,Nc4,Rhg8,Ne5+,Kc7,Ne6+,Kb6', 'Nc4+,Ka6,Nc7#', 'https://lichess.org/training/Dwhc2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DWhME', 'Rapid', 'Yura0101', 1871, 'KingCarl', 1907, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Bb5,Nge7,Nc3,a6,Be2,d5,exd5,Nxd5,Nxd5,Qxd5,Be3,Qxg2', 'Bf3,Qh3,Nxc6', 'https://lichess.org/training/DWhME');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DwIrr', 'Rapid', 'ibbob', 1969, 'Dandaa', 1979, 'd4,g6,Bf4,Bg7,e3,c5,c3,cxd4,exd4,d6,Nf3,Nc6,Be2,Nf6,h3,O-O,Nbd2,Qb6,Qc1,e5,Nc4,Qc7,dxe5,dxe5,Ncxe5,Nh5,Nxg6,Nxf4,Nxf4,Bh6,g3,Re8,Kf1,Re4,Bd3,Bxf4,gxf4,Rxf4,Rg1+,Kh8,Ng5,Bf5,Qxf4', 'Bxd3+,Kg2,Qxf4', 'https://lichess.org/training/DwIrr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dWIsI', 'Blitz', 'Cyanide111', 1693, 'Copper_Kettle', 1659, 'e4,c5,Bc4,e6,d3,Nc6,Nf3,d5,exd5,exd5,Bb5,Qc7,Bxc6+,Qxc6,O-O,Be7,Re1,Nf6,Bg5,Qd6,Nc3,O-O,Nb5,Qd7,a4,a6,Ne5,Qf5,Nc7,Ra7,Bh4,b6,Bxf6,Bxf6,Nxd5,Bxe5,c4,Qg5,Qf3,Bxb2,Rab1,Bc3,Re2,Ba5,Qe4,Bb7,Qe8,Bxd5,cxd5,Qxd5,Qe3,Bc3,Rxb6,Bd4,Qe8,c4', 'Qxf8+,Kxf8,Rb8+,Qd8,Rxd8#', 'https://lichess.org/training/dWIsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DWJi4', 'Blitz', 'Artyom_Tim', 1761, 'peterdavidson', 1780, 'd4,e5,dxe5,Nc6,Nf3,Qe7,e3,Nxe5,Nxe5,Qxe5,Be2,Nf6,O-O,d5,c3,Be7,Nd2,O-O,Nf3,Qd6,Bd2,c5,b3,Bf5,c4,d4,exd4,cxd4,Bg5,Rad8,g3,h6,Bf4,Qd7,Re1,Nh5,Be5,Bf6,Bxf6,Nxf6,Ne5,Qd6,Nd3,Bxd3,Qxd3,Rfe8,Bf3,b6,Rxe8+,Rxe8,Rd1,Rd8,h4,Qe5,Kf1,Qe6,Re1,Qh3+,Bg2,Qd7,Kg1,Qd6,Rd1,Qa3,Rd2,Qc1+,Kh2,Qe1,Re2', 'Ng4+,Kh3,Nxf2+,Rxf2,Qxf2', 'https://lichess.org/training/DWJi4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dWKuu', 'Rapid', 'ianjl', 1838, 'tomoa', 1987, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d5,c3,Nbd7,Nbd2,Re8,e4,dxe4,Ng5,e5,Ngxe4,exd4,cxd4,Nb6,Re1,Kf8,Nxf6,Rxe1+,Qxe1,Bxf6,Nf3,c6,Bh6+,Bg7,Qb4+,Kg8,Bxg7,Kxg7,Re1,Nd5,Qc5,Qf8,Qxf8+,Kxf8,Ng5,h6,Bxd5,hxg5,Bf3,g4,Bd1,Bf5,Bb3,Rd8,Rd1,Ke7,d5,cxd5,Rxd5,Rxd5,Bxd5,Be6,Bxb7,Bxa2,Kf1,Kd6,Ke1,Be6,Kd2,Kc5,Kc3,a5,Ba6,a4,Be2,Bd7,Bd1,f5,Bc2,Bb5,Bb1,Bc6,Ba2,Bd5', 'Bxd5,Kxd5,Kb4', 'https://lichess.org/training/dWKuu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DwlCP', 'Rapid', 'Fathermora', 1926, 'geartwo', 2046, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,f3,e6,Bg5,h6,Be3,Bb4+,c3,Be7,Bd3,O-O,O-O,d5,Nd2,dxe4,Nxe4,Nxd4,Bxd4,Nxe4,Bxe4,Bf6,Bxf6,Qxf6,Qb3,Rb8,Rfd1,b6,Qa3,a5', 'Bh7+,Kxh7,Qxf8', 'https://lichess.org/training/DwlCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DWM9p', 'Blitz', 'MontagnaG', 1698, 'Chess96009', 1704, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,c3,d6,d4,Bb6,dxe5,dxe5,Qxd8+,Nxd8,Nxe5,Be6,Bf4,Bxb3,axb3,h6,O-O,Nf6,Nd2,O-O,Kh1,Re8,Ndf3,Ne6,Bg3,Nxe4,Rfe1,Nxg3+,fxg3,Nc5,b4,Ne6,Nc6,Nf8,Rxe8,Rxe8,Rxa6,Re2,Ra2,Ne6,h3,Rc2,Nfe5,Rc1+,Kh2,Ng5,h4,Ne4,Ra8+,Kh7,Nxf7,h5,Nce5', 'Bg1+,Kh3,Nf2#', 'https://lichess.org/training/DWM9p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DWmHn', 'Rapid', 'magtaw', 1918, 'negro62', 1960, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,a3,cxd4,cxd4,Nh6,b4,Nf5,Be3,Bd7,Be2,Be7,O-O,O-O,Nc3,Nd8,Rc1,Rc8,Bd3,Nxe3,fxe3,f6,exf6,Bxf6,Bb1,g6,h3,Nf7,Nh2,Bg7,Ng4,Ng5,Qd2,Bb5,Nxb5,Qxb5,Rxc8,Rxc8,Nf6+,Bxf6,Rxf6,Qc4,Bd3,Qc1+,Qxc1,Rxc1+,Bf1,Rc3,h4,Ne4,Rxe6,Kf7,Re5,Rxe3,Rxd5,Re1,Rd7+,Ke6,Rxb7,Nd2,Rxa7,Rxf1+,Kh2,h5,b5,Rb1,a4,Nc4,Ra6+,Kd5,Rxg6,Kxd4,Rg5,Ra1,Rxh5,Rxa4,Rg5,Ne5,h5,Rb4,h6,Rxb5', 'h7,Nf3+,gxf3,Rxg5,h8=Q+', 'https://lichess.org/training/DWmHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dWml4', 'Blitz', 'tusito', 2228, 'digital264', 2231, 'd4,e5,dxe5,d6,f4,Nc6,Nf3,Bg4,Nc3,Bxf3,exf3,dxe5,Bb5,Bc5,fxe5,Qh4+,g3,Qh3,Qe2,O-O-O,Bxc6,bxc6,Bd2,Ne7,O-O-O,Bb6,Na4,Kb7,Be3,Nd5,Nc5+,Ka8,Qa6,Rb8,Bf2,Qg2,Rd2,Qxh1+,Rd1,Qxf3,Bg1,Rhd8,e6,fxe6,Nxe6,Nb4', 'Nxc7+,Bxc7,Qxa7#', 'https://lichess.org/training/dWml4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dwN4M', 'Blitz', 'naufalyahya', 1553, 'MrEver', 1503, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,O-O,Bxf6,Bxf6,e4,dxe4,Nxe4,Nc6,Nxf6+,Qxf6,Be2,Rd8,d5,exd5,cxd5,Ne5,b3,h6,O-O,Be6,Bc4,c6,Qe2,Nxf3+,Qxf3,Qxf3,gxf3,Bxd5,Bxd5,Rxd5,Rfd1,Rf5,Kg2,b5,Rd6,c5,Rc1,Rc8,Rd7,a5,Ra7,c4,bxc4,bxc4,Rd7,c3,Rd3,c2,Rd2,Rfc5,Kf1,Rc3,Ke2,Kf8,Rd3,Ke7,Kd2,R3c5,Rb3,Rd8+,Ke2,Kf6,Rb2,Rdc8,Kd2,Kg5,Rcxc2,Rxc2+,Rxc2,Rxc2+,Kxc2,Kh4,Kb3,Kh3,Ka4,Kxh2,Kxa5,Kg2,Kb6,Kxf2,a4,h5,a5,h4,a6,h3,a7,h2,a8=Q,h1=Q,Qa2+,Kg3,Qxf7,Qh6+,Kc7', 'Qf4+,Qxf4+,Kxf4', 'https://lichess.org/training/dwN4M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dWp29', 'Blitz', 'JoseAngel2007', 2076, 'FM jjpineda', 2167, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,e5,d5,c5,Qd2,a6,Nge2,Nbd7,Ng3,Re8,Bh6,Nf8,h4,Rb8,h5,Nxh5,Nxh5,gxh5,Bxg7,Kxg7,Rxh5,Qf6,O-O-O,Bd7,Be2,b5,g4,Ng6,Qh6+,Kg8,Qxh7+,Kf8,Rdh1,b4,Nd1,Nf4,Qh8+,Ke7,Qxf6+,Kxf6,R5h2,Nxe2+,Rxe2,Rh8,Reh2,Rxh2,Rxh2,Kg5,Rh7,Rf8,Kd2,Kf4,Ke2,Ba4,Nf2,Bc2,Rh6,f6,Rh7,Bb1,a3,bxa3,bxa3,Rb8,Rd7', 'Rb2+,Ke1,Kxf3', 'https://lichess.org/training/dWp29');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DwP5J', 'Rapid', 'grzesiek1234', 1895, 'jebac_pis', 1848, 'd4,Nf6,e3,g6,c3,Bg7,h3,O-O,Nd2,d5,Qf3,Re8,Qd1,Nc6,Ngf3,e5,dxe5,Nxe5,Nxe5,Rxe5,Nf3,Re6,Nd4,Rb6,Bd3,c5,Ne2,c4,Bc2,Re6,Nd4,Rb6,b3,Ne4,Bxe4,dxe4,bxc4,Be6,Qe2,Qc7,Nxe6,Rxe6,Bb2,Qa5,Qc2,Rc6,Qb3,b5,cxb5,Bxc3+,Bxc3', 'Rxc3,O-O,Rxb3', 'https://lichess.org/training/DwP5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DwpXq', 'Rapid', 'Sandarus', 1722, 'Siddhant1902', 1707, 'd4,Nf6,Nc3,d5,Bf4,e6,e3,Bd6,Bg3,c5,Nb5,Bxg3,hxg3,b6,Nf3,Nc6,a3,Bd7,Nd6+,Ke7,Ng5,h6,Ngxf7,Qc7,Nxh8,Rxh8,Nb5,Qb7,Qd3,cxd4,Nxd4,Nxd4,Qxd4,Rc8,Bd3,Qc7,Ba6,Qc5,Bxc8,Qxd4,exd4,Bxc8,O-O-O,Ne4,Rhe1,Nxf2,Rd2,Ne4,Rde2,Nxg3,Re5,Ne4,b4,a6,g4,b5,R5xe4,dxe4,Rxe4,Kd6,Rf4,Ke7,Kd2,Bb7,Kd3,Bd5,Kc3,Ke8,Rf2,Ke7,Kb2,Ke8,c3,Ke7,Rf1,Ke8,Rg1,Kf7,g5,hxg5,Rxg5,Kf6,Rh5,Kg6,Rh8,Kf6,Rc8,g5,Kc2,Kf5,Kd3,Kf4,Rf8+,Kg3,Ke3,g4,Rg8,Kh3,Kf4', 'e5+,Kxe5,Bxg8', 'https://lichess.org/training/DwpXq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dWsaP', 'Bullet', 'Pablo_Es', 1587, 'ljubomauzer', 1591, 'd4,d5,c4,e6,e3,Nf6,Bd3,Be7,Ne2,O-O,Ng3,Nbd7,O-O,c5,f3,cxd4,exd4,Qb6,c5,Qd8,Qc2,h6,Nd2,Qc7,f4,Qc6,f5,b6,fxe6,fxe6,Nb3,bxc5,dxc5,Bb7,Nd4,Qxc5,Qxc5,Bxc5,Be3,Rae8,Kh1,e5,Ndf5,e4,Bxc5,Nxc5,Bb5,Re5,b4,Ne6,Nd6,Ba8,Rac1,Nd4,Ba6,Re6,Ndf5,Rxa6,Nxd4,Ng4,Rxf8+,Kxf8,Rc8+,Kf7,Rxa8,Rxa2,Nge2', 'Ra1+,Nc1,Rxc1#', 'https://lichess.org/training/dWsaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dWsj8', 'Rapid', 'Doprano', 1818, 'riki2', 1753, 'd4,d5,Nf3,e6,e3,h6,b3,Nf6,Bb2,Bd6,Nbd2,a6,Bd3,b5,c4,bxc4,bxc4,dxc4,Bxc4,Bb7,Rc1,Nbd7,O-O,O-O,Ne5,Rb8,Ba1,Ne4,Ndf3,Bxe5,Nxe5,Nxe5,dxe5,Qg5,f3,Qxe3+,Kh1,Nf2+,Rxf2,Qxf2,Rc2,Rfd8', 'Qxd8+,Rxd8,Rxf2', 'https://lichess.org/training/dWsj8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dwSkK', 'Rapid', 'InoffensiveUsername', 1978, 'Nb_1', 1843, 'd4,d5,c4,e6,Nc3,c6,cxd5,cxd5,Bf4,Nf6,Rc1,Bb4,e3,Ne4,Bxb8,Rxb8', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/dwSkK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dwTBU', 'Blitz', 'M_V_L_2009', 2073, 'Kesavangpks', 1988, 'd4,Nf6,Nf3,b6,g3,Bb7,Bg2,e6,O-O,d5,c4,Nbd7,Nc3,Be7,cxd5,exd5,Bf4,O-O,Ne5,Nh5,Rc1,Nxf4,gxf4,c6,e4,Nf6,exd5,cxd5,Kh1,Ne4,f3,Nxc3,bxc3,f6,Nd3,Ba6,Re1,Bxd3,Qxd3,Bd6,Qf5,Kh8,Rc2,Qc8,Qxd5,Bxf4,Re4,Bh6,Rh4,Qe8,Qe4,Qb5,Bh3,Rae8,Qf5,Re1+,Kg2,Re2+,Kg3,Qc4,Bf1,Qc7+,f4,Re3+,Kf2,Rxc3,Rxc3,Qxc3,Bd3,Qxd4+,Kg2,Qb2+,Bc2,g6,Qd3,Bg7,Qxg6,Kg8,Rxh7,Rf7', 'Rh8+,Kxh8,Qh7#', 'https://lichess.org/training/dwTBU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DWUS0', 'Rapid', 'salehhhhhh', 1870, 'Mc_Muffin', 1899, 'Nf3,f5,d4,Nf6,h3,d5,Bf4,e6,e3,Bd6,Ne5,Nbd7,a3,Bxe5,dxe5,Ne4,f3', 'Qh4+,g3,Nxg3,Bxg3,Qxg3+', 'https://lichess.org/training/DWUS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dWUsp', 'Rapid', 'BobTheIrish', 1759, 'kenobi510', 1751, 'e4,e5,Nf3,Nf6,d3,Bc5,Bg5,Nc6,Nc3,O-O,Be2,Ne7,Bxf6,gxf6,Qd2,d5,exd5,Nxd5,Nxd5,Qxd5,c4,Qe6,h4,a5,g3,Bb4,O-O-O,Bxd2+,Nxd2,b6,f3,Bb7,g4,f5,gxf5,Qxf5,Rhg1+,Kh8,Rg5,Qf6,Ne4,Bxe4,fxe4,h6,Rh5,Qf4+,Kc2,Qe3,Rd2,c6,Rxe5,Rab8,Rf5,b5,Rf3,Qa7,Rf6,Kh7,Bg4,Qe7,Bf5+,Kg7,Rxc6,bxc4', 'Rg2+,Qg5,hxg5', 'https://lichess.org/training/dWUsp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DwUSr', 'Rapid', 'zackzzzzzz0911', 1781, 'litorozo', 2053, 'e4,c5,Nf3,Nc6,Bb5,d6,d4,cxd4,Nxd4,Bd7,O-O,g6,Nc3,Bg7,Be3,a6,Nxc6,bxc6,Bc4,Qc7,Qf3,Nf6,Rfe1,O-O,h3,Rad8,Bxa6,e6,Bg5,Nh5,Bxd8,Rxd8,Rad1,d5,exd5,cxd5,Bb5', 'Bxc3,bxc3,Bxb5', 'https://lichess.org/training/DwUSr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DWVF5', 'Blitz', 'FM franksa', 2408, 'FM profaVa', 2471, 'd4,d5,c4,e5,e3,Nc6,Nc3,dxc4,Nf3,exd4,exd4,Bg4,Bxc4,Bxf3,Qxf3,Nf6,O-O,Qxd4,Bb5,O-O-O,Be3,Qh4,Bxc6,bxc6,Qxc6,Bd6,g3,Qh3,Nb5,Ng4,Nxa7+,Kb8,Qb5+,Ka8,Qd5+,Kb8,Qg2', 'Qxg2+,Kxg2,Nxe3+,fxe3,Kxa7', 'https://lichess.org/training/DWVF5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DwwO9', 'Rapid', 'hemaelmasre', 1788, 'RogerioBarros0610', 1801, 'e4,e6,Nf3,d5,e5,c5,c3,f6,Bb5+,Bd7,Qb3,c4,Qa4,Nc6,b3,fxe5,bxc4,e4,Nd4,Nxd4,cxd4,Ne7,c5,Nc6,O-O,Be7,d3,exd3,Bxd3,O-O,Be3,Bf6,Qc2,g6,Bh6,Bxd4,Bxf8,Qxf8,Nc3,Nb4,Qd2,Nxd3,Qxd3,Bg7,Rab1,Bc6,Qe3,Qf7,Rfe1', 'd4,Qd3,dxc3', 'https://lichess.org/training/DwwO9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dwwy2', 'Blitz', 'yagopasha06', 1514, 'chess12312', 2123, 'd4,Nf6,c4,g6,e3,Bg7,Nf3,O-O,Be2,d6,O-O,Nc6,Nc3,e5,d5,Ne7,Re1,e4,Nd2,Bf5,g4,Bd7,Ndxe4,Nxe4,Nxe4,f5,gxf5,Nxf5,Ng3,Nh4,Bg4,Qf6,Bxd7', 'Qxf2+,Kh1,Qg2#', 'https://lichess.org/training/Dwwy2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DwX6o', 'Rapid', 'imbecilexix', 1917, 'jorgerovisk', 1811, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,a6,Nf3,h6,Bc4,e6,O-O,Be7,e5,dxe5,dxe5,Qxd1,Rxd1,Nfd7,Ne4,O-O,Be3,Nc6,Rxd7,Bxd7,Rd1,Rad8,Bb6,g5,Nf6+,Bxf6,exf6,Rc8,Rxd7,Nb4,Bb3,Rc1+,Rd1,Rxd1+,Bxd1,Nxa2,Bb3,Rc8,h4,gxh4,Bxa2,Rc1+,Kh2,Rc2,Bd4,b5,Bb3,Rc6,Nxh4,Rd6,Nf3,a5,Bc3,b4,Be5,Rd3,Bc4,Rd1,Bc7,a4,Ba5,Rc1,b3', 'a3,Bxb4,a2', 'https://lichess.org/training/DwX6o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dWxdR', 'Rapid', 'vanzan', 1854, 'aleksey2015', 1690, 'e4,e5,f4,d6,Nf3,Nc6,c3,exf4,d4,Bg4,Bxf4,Nf6,Nbd2,Qe7,Bd3,O-O-O,O-O,Nh5,Bg5,f6,Bh4,g5,Be1,Nf4,Bb5,h5,Bxc6,bxc6,h3,Bxh3,gxh3,Nxh3+,Kh2,g4,Nh4,d5,Nf5,Qd7,Qa4,Kb8,b4,Bd6+,Kh1,h4,Qd1,g3,Qg4,Ng5,Nxd6,Qxd6,e5,Qe7,Rxf6,g2+,Kxg2,h3+,Kh2,Rdg8,Qf5,Ne4,Nxe4,Rg2+,Kh1,dxe4,Qxe4,Qg7,Bh4,Rg8,Bf2,h2,Rf1,Rxf2,R6xf2', 'Qg1+,Rxg1,hxg1=Q#', 'https://lichess.org/training/dWxdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dwxgq', 'Classical', 'MarcosBarzana', 1798, 'ss1810', 1681, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Bxc6,Bxc6,d5,Bb5,Nbd2,Nf6,c4,Ba6,Qc2,Be7,O-O,O-O,Re1,c6,Nb3,Rc8,Bg5,cxd5,exd5,Nxd5,Bxe7,Nxe7,Qd2,Rxc4,Na5,Rg4,Rad1,Ng6,g3,h5,Qxd6,Qxa5,Nxe5,Nxe5,Rxe5,Qa4,Rde1,h4,Rh5,b6', 'Qxf8+,Kxf8,Rh8#', 'https://lichess.org/training/Dwxgq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dwYMn', 'Classical', 'Zach_of_Austin', 1701, 'ChesterMo', 1799, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,Be6,Qf3,c6,d3,Nd7,Nge2,g6,O-O,Bg7,Be3,O-O,h4,h5,d4,Bg4,Qg3,e5,Nxd5,cxd5,f3,Bxf3,Rxf3,e4,Rf4,dxc4,Raf1,Bh6,R4f2,Bxe3,Qxe3,Qxh4,Qh6,Qe7,Ng3,Rac8,Nf5,gxf5,Rxf5,Rc6,Rg5+,Rg6,Rxg6+,fxg6,Qxg6+,Qg7,Qe6+,Kh8,Rxf8+,Nxf8,Qxe4,b6,d5,Qg6,Qe5+,Kg8,d6,Qe6,Qg5+,Qg6', 'Qxg6+,Nxg6,d7', 'https://lichess.org/training/dwYMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DwYpy', 'Rapid', 'samihayek', 1729, 'say_eso', 1828, 'd4,Nf6,c4,d6,d5,g6,Nc3,Bg7,e4,e5,Nf3,Nbd7,Bd3,Nc5,Bc2,a5,Bg5,O-O,O-O,h6,Bh4,g5,Bg3,Nh5,h3,Nxg3,fxg3,f5,exf5,Bxf5,Bxf5,Rxf5,g4,Rf4,b3,e4,Nd4,Nd3,Ne6,Rxf1+,Qxf1,Qe7,Nxg7,Kxg7,Re1,Rf8', 'Qxd3,exd3,Rxe7+', 'https://lichess.org/training/DwYpy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dWZew', 'Rapid', 'victorband', 2141, 'youhourta05', 2177, 'c4,Nf6,Nc3,g6,d4,d6,e4,Nbd7,Nf3,Bg7,Be2,O-O,O-O,e5,d5,a5,b3,Nc5,Bg5,h6,Bxf6,Qxf6,Nd2,Qg5,h3,f5,Bf3,f4,Bg4,Nd7,Be6+,Kh8,Qg4,Qf6', 'Bxd7,h5,Qe6', 'https://lichess.org/training/dWZew');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DWzhg', 'Blitz', 'Pablosky809', 2036, 'FM pitopi', 2330, 'e4,c5,Bc4,Nf6,Nc3,Nc6,d3,e6,a3,d5,exd5,exd5,Ba2,Be7,Nge2,O-O,O-O,Be6,Ng3,Qd7,f4,d4,Nce4,Bxa2,Rxa2,Nd5,f5,f6,c4,dxc3,bxc3,Kh8,c4,Nc7,Ne2,Rad8,Rd2,Ne5,Qe1,Nxd3,Qh4,Qc6,Rxd3,Rxd3,Nf4,Rd4', 'Ng6+,Kg8,Nxe7+', 'https://lichess.org/training/DWzhg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dx0TG', 'Blitz', 'OnlyPawnToE4', 2237, 'tode172603', 2245, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,c3,a6,Bxc6+,bxc6,d4,exd4,cxd4,Ba7,h3,Nf6,Nc3,h6,e5,dxe5,dxe5,Qxd1,Rxd1,Nd7,Ne4,O-O,Bf4,Re8,Rac1,f5,Ng3,g5,e6,Rxe6,Bxc7,f4,Nf5,Re2,Rxc6,Rxf2,Kh1,Kh7,Rxh6+,Kg8,Nxg5,Nf8,Rh8+,Kxh8', 'Be5+,Kg8,Ne7#', 'https://lichess.org/training/Dx0TG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DX2Yq', 'Rapid', 'BurimBytyqi', 1980, 'SeyreDur', 1983, 'e4,e6,f4,d5,exd5,exd5,Nf3,Bg4,d4,Nf6,Bd3,Ne4,O-O,Be7,c3,O-O,Qc2,f5,Ne5,Bh5,Nd2,c5,Ndf3,Nc6,Nxc6,bxc6,Ne5,Qc7,Be2,Bxe2,Qxe2,cxd4,cxd4,Qb6,Be3,Rad8,Rac1,Rf6,Rc2,Bd6,Rfc1,Bxe5', 'dxe5,d4,exf6', 'https://lichess.org/training/DX2Yq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dx9b2', 'Rapid', 'Danberein', 2113, 'Ktointer', 1968, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,h3,Nf6,d3,h6,a4,a6,c3,O-O,Nbd2,Qe7,Bb3,Be6,Bc2,Nh7,d4,exd4,Nb3,dxc3,Nxc5,dxc5,bxc3,Rad8,Qe2,Qf6,e5,Qe7,Qe4,f5,exf6,Nxf6,Qe2,Bd5,Qxe7,Nxe7,Ne5,Be4,Bb3+,Bd5,Bc2,Be4,Bb3+,Kh7,Ba3,b6,Rfe1,Ned5,Rac1,Rfe8,Nc4,Bd3,Red1,Bxc4,Bxc4,Nf4,Bxa6,Ne2+', 'Bxe2,Rxe2,Rxd8', 'https://lichess.org/training/dx9b2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DxafU', 'Rapid', 'pouya007', 1885, 'CuxTraining3', 1980, 'e4,e5,Bc4,Nc6,Nc3,Bc5,d3,d6,Nf3,Bg4,h3,Bh5,g4,Bg6,h4,h5,Ng5,Qf6,Be3,Bxe3,fxe3,hxg4,Qxg4,Bh5,Qg3,Nh6,Rf1,Qe7,Nd5,Qd7,Nf3,f6,Bb5,Ng4,O-O-O,a6,Ba4,b5,Bb3,Na5,Rde1,O-O-O,d4,Kb7,dxe5,Nxe5,Nxe5,dxe5,Rf2,c6,Nc3,b4,Na4', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/DxafU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DxAjh', 'Blitz', 'NM johnmac', 2244, 'Kountouriotou25', 2172, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd3,d5,a3,Bd6,c5,Be7,f4,b6,cxb6,axb6,Nf3,Bb7,O-O,c5,Ne5,Ne4,Qh5,f5,Rf3,Bf6,Rh3,h6,Qg6,Qe8,Rxh6,Qxg6,Rxg6,Bxe5,fxe5,Kf7,Bxe4,Kxg6,Bf3,Nc6,Nb5,Kf7', 'Nd6+,Ke7,Nxb7,Rfb8,Nd6', 'https://lichess.org/training/DxAjh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DXBtC', 'Rapid', 'bartosz546', 1949, 'IFedoros', 1951, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Nxe5,Nd6,Bb3,Be7,O-O,O-O,Nc3,Bf6,d4,Nc6,Re1,a6,Kh1,Nb5,Nxb5,axb5,f4,d6,Nxc6,bxc6,a4,Bb7,Be3,Re8,a5,d5,c3,Bc8,Bc2,Re7,Qd3,g6,b4,Qe8,Bd2', 'Bf5,Qf1,Bxc2', 'https://lichess.org/training/DXBtC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DXBYw', 'Blitz', 'VetroVSkill', 2413, 'Ahmed3A99', 2315, 'c4,Nf6,Nf3,g6,b3,Bg7,Bb2,O-O,e3,c5,Be2,Nc6,d4,Ne4,O-O,d6,Qc1,Bg4,h3,Bxf3,Bxf3,Ng5,Bxc6,bxc6,dxc5,dxc5,Bxg7,Kxg7,Nc3,e5,f4,exf4,exf4,Ne6,f5,Ng5,f6+,Kh6,Rf4,Kh5,Rh4+,Kxh4,Qe1+,Kh5', 'g4+,Kh6,Qh4#', 'https://lichess.org/training/DXBYw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DxCvU', 'Classical', 'ariefleite', 1678, 'Glock_22252', 1616, 'e4,c5,Nf3,d6,Bc4,Nc6,Ng5,e6,Qf3,Qxg5,O-O,Qf6,d3,Ne5,Qe2,Nxc4,dxc4,Be7,Nc3,a6,f4,g6,f5,Qg7,Bd2,Nf6,Bg5,O-O,Rad1,h6,Bxf6,Bxf6,fxg6,Qxg6,Rf3,Be5,Qf1,Bxc3,Rxc3,Qxe4,Rg3+,Kh7,Qf6,Qe5', 'Rg7+,Kh8,Qxh6#', 'https://lichess.org/training/DxCvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dxd8D', 'Rapid', 'jebisesome', 1904, 'eminnaxchess', 2055, 'd4,d5,e3,Bf5,f4,Nc6,Nf3,e6,a3,Bd6,Bd3,Bxd3,Qxd3,Nf6,Nbd2,Qe7,Nf1,O-O,Ng3,a6,Bd2,b5,c3,Na5,O-O,Nc4,b3,Nxd2,Qxd2,Bxa3', 'b4,a5,Rxa3', 'https://lichess.org/training/dxd8D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DXDni', 'Rapid', 'sadamaza', 1667, 'Asikar', 1692, 'e4,c5,Bc4,Nc6,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Qf3,e6,O-O,Ne7,Nc3,O-O,Bg5,d5,exd5,cxd5,Bd3,Rb8,b3,Bxc3,Rad1,Bg7,h4,Qd7,Bc4,Nf5,Bd3,h6,Bd2,Nxh4,Qg3,Nf5,Bxf5,Bb7,Bh3,Qc6,Bf4,Rbd8,Bc7,Rd7,Ba5,Qxc2,Bb4,Rc8,a3,Qe4,f4,f5,Rde1,Qd4+,Kh1,Qf6,Re5,g5,Rd1,g4,Rde1,gxh3,Rxe6,hxg2+,Kxg2,Qb2+,Kg1,Qd4+,Kh1,Qb2,Qg6,d4+,Kg1,d3', 'Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/DXDni');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DxeL2', 'Classical', 'goncaloaparis', 2003, 'TanMus', 1787, 'e4,d5,exd5,Qxd5,Nf3,Nf6,Nc3,Qa5,Be2,e5,O-O,Bd6,d4,exd4,Nxd4,O-O,Nb3,Qe5,g3,Bh3,Re1,Nc6,Bg4', 'Bxg4,Rxe5,Bxd1', 'https://lichess.org/training/DxeL2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DxFAO', 'Blitz', 'Kjellsson', 1902, 'J-001', 1865, 'Nc3,d5,e4,d4,Nce2,e5,Ng3,c5,Nf3,Nc6,Bc4,Nf6,Ng5,Be6,Nxe6,fxe6,Bxe6,Qe7,Bb3,g6,Qf3,Bg7,O-O,b5,c4,a6,d3,h6,Re1,Rf8,Qe2,b4,Ba4,Kd7,f4,Kc7,fxe5,Nxe5,Bf4,Kb6,a3,a5,axb4,axb4,b3,Nfg4,h3,Rxf4,hxg4,Rxg4,Nf1,Qg5,Nh2,Rg3,Rf1,Rxd3,Nf3,Nxf3+,Rxf3,Rd2,Qf1,Be5,Rf7,Qg3,Rf6+,Kc7,Rf7+,Kd6', 'Rd7+,Ke6,Qf7#', 'https://lichess.org/training/DxFAO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dxfkm', 'Rapid', 'pvpks', 1637, 'CommandantMaximus', 1638, 'e4,e6,e5,d5,exd6,Bxd6,Nc3,Nf6,d4,O-O,Bg5,h6,Bh4,Re8,Nf3,e5,dxe5,Bxe5,Qxd8', 'Bxc3+,Kd1,Rxd8+', 'https://lichess.org/training/dxfkm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DXGCb', 'Rapid', 'keshavkaurav', 2168, 'Kaief', 2030, 'c4,g6,Nc3,c5,g3,Bg7,Bg2,Nc6,Nf3,d6,e3,e5,O-O,Nge7,b3,Bf5,e4,Bg4,h3,Bd7,d3,a6,Nd5,Be6,Ng5,O-O,Nxe6,fxe6,Nc3,Nd4,Be3,Nec6,f4,exf4,Bxf4,Be5,Bxe5,Rxf1+,Qxf1,Nxe5,Ne2,Qe7,Nxd4,cxd4,Qf2,Rf8,Qxd4,Rf3,Kh2,Qg5,Qxd6,Rxg3,Rg1,Rxg2+,Rxg2', 'Nf3+,Kh1,Qc1+,Rg1,Qxg1#', 'https://lichess.org/training/DXGCb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DXh4d', 'Rapid', 'M4N15H', 2181, 'Rusientes', 2201, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qe2,Qxc6,Nc3,Ne7,Be3,Bxe3,Qxe3,O-O,O-O-O,d6,f4,Bg4,Rd2,Ng6,h3,Bc8,g4,a6,Nd5,Re8,f5,Ne5,f6,Be6,Ne7+,Rxe7,fxe7,Re8,Kb1,Rxe7,Be2,Bc4,Rd4,Qb6,Bxc4', 'Nxc4,Qc3,Na3+,Qxa3,Qxd4', 'https://lichess.org/training/DXh4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dXj6l', 'Blitz', 'mustafajalal55668', 1519, 'Ned_flanders', 1513, 'e4,e5,f3,Nc6,Ne2,f5,exf5,d6,Ng3,Nf6,c3,h5,h4,g6,fxg6,Be6,d4,Qe7,Bg5,Bh6,Bxf6,Qxf6,d5,Qxg6,Ne4,Bf5,dxc6,Bxe4,cxb7,Rb8,Qa4+,c6,Qxe4,Qxe4+,fxe4,Rxb7,b3,O-O,Be2,Rf4,Bf3,Rd7,Nd2,d5,exd5,cxd5,O-O,e4,Bxh5,Rxh4,Be8,Rh7,Nxe4', 'Be3+,Rf2,Rh1#', 'https://lichess.org/training/dXj6l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dxj8A', 'Rapid', 'micaela2020', 2001, 'masterblade3334', 2084, 'd4,d5,Nf3,Nf6,g3,c5,c3,Nc6,Bg2,e6,O-O,Bd6,Bg5,h6,Bxf6,Qxf6,e3,O-O,Nbd2,e5,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qe6,Qd2,b6,Rfd1,Bb7,c4,Rad8,cxd5,Qf6,e4,Rfe8,Qc2,Bb8,Re1,Qe7,Nd2,Bxd5,exd5,Qxe1+,Rxe1,Rxe1+,Bf1,Rxd5,Nf3,Re7,Kg2,Be5,Bc4,Rd8,b3,Bf6,Nd2,Red7,Ne4,Bd4,Nc3,Bf6,Nd5,Rxd5,Bxd5,Rxd5,Qe4,Re5,Qa8+,Kh7,Qxa7,Re6,Qxf7,Re2,Kf1,Rxa2,Qc4,Bd4,f4,Rxh2,Qb5,Rf2+,Ke1,Rf3,Qxb6,Rxg3,f5,Rg5,Qe6,h5,Qe4,Kh6,Ke2,g6,fxg6', 'Re5,Kf3,Rxe4', 'https://lichess.org/training/dxj8A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DxJll', 'Rapid', 'and12345', 1935, 'a23med', 1936, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Nc3,Ngxe5,e3,Bb4,Qc2,O-O,a3,Be7,b3,d6,Bb2,Bf6,Be2,a5,O-O,Ne7,b4,Bf5,e4,Bg6,Kh1,Nxf3,Bxf3,axb4,axb4,Nc6,Nd5,Bxb2,Qxb2,Ne5,Rxa8,Qxa8,Ne7+,Kh8,Nxg6+,fxg6,Be2,b6,Qd4,Qa2,Re1,h6,c5,bxc5,bxc5,Qe6,cxd6,cxd6,Rd1,Rd8,g3,Nc6,Qc3,Ne5,Kg2,Kh7,f4,Nf7,Bd3,d5,Qb3,Qc6,exd5,Qxd5+', 'Qxd5,Rxd5,Bxg6+,Kxg6,Rxd5', 'https://lichess.org/training/DxJll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dXlEG', 'Blitz', 'jmirks', 1540, 'vinotetra2p', 1564, 'e4,c5,Nf3,d6,Bc4,h6,d3,Nc6,O-O,Bg4,h3,Bh5,g4,Bg6,Nh4,Bh7,g5,e6,Nf3,d5,exd5,exd5,Re1+,Be7,Bb5,Qd6,Bxc6+,bxc6,gxh6,gxh6,Ne5,Nf6,Bxh6,Rg8+,Kh1,O-O-O,Bf4,d4,Nxf7,Qd5+,f3,Qxf7,Qe2,Qh5,Qe6+,Rd7', 'Qxc6+,Rc7,Qxc7#', 'https://lichess.org/training/dXlEG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dxmfs', 'Classical', 'peymanpiranshahr', 1625, 'erkut25', 1624, 'd4,d5,e3,Nf6,Nc3,e6,Nf3,Bb4,Bd2,O-O,Be2,Nc6,a3,Bxc3,Bxc3,Ne4,Bd2,Nxd2,Qxd2,a6,O-O,Qf6,b4,a5,b5,Nd8,Ne5,Qe7,c4,dxc4,Bxc4,f6,Nf3,Kh8,Qc2,c6,bxc6,Nxc6,Bd3,f5,Ne5,Nxe5,dxe5,Kg8,Qc3,Bd7,Qc7,Rab8,Bb5,Qd8', 'Qxd7,Qxd7,Bxd7', 'https://lichess.org/training/dxmfs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DxmgI', 'Blitz', 'IM gsvc', 2713, 'IM Niclox', 2644, 'e4,c5,Nf3,d6,h3,Nf6,c3,g6,Bd3,Bg7,Bc2,O-O,d4,cxd4,cxd4,Nc6,Nc3,Nb4,Bb3,b6,a3,Nc6,O-O,Na5,Ba2,Ba6,Re1,Rc8,Bg5,h6,Bh4,g5,Bg3,Bc4,e5,dxe5,dxe5,Qxd1,Raxd1,Nh5,Bh2,Bxa2,Nxa2,Rc2,Rd2,Rfc8,Nb4,Rxd2,Nxd2,Nf4,Bxf4,gxf4,Kf1,Nc4,Nxc4,Rxc4,Nd3,f6,exf6,Bxf6,Ke2,Bxb2,Nxb2,Rc2+,Kf3,Rxb2,Rxe7,Rb3+,Kxf4,Rxa3,Kg4,a5,Rb7,Rb3,f4,a4,Kf5,a3,g4,a2,Ra7', 'Rb5+,Kg6,Ra5', 'https://lichess.org/training/DxmgI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dxN5k', 'Rapid', 'Knight8991', 1914, 'Mlnrbjn', 1890, 'e4,e6,d3,d5,exd5,exd5,Nf3,Bd6,Be2,Ne7,O-O,Be6,c3,O-O,d4,c6,b4,Na6,a4,Nc7,a5,Ng6,Nbd2,b6,axb6,axb6,Bb2,Rxa1,Bxa1,Ne8,Nb3,Nf6,Nfd2,Qc7,h3,Qd7,Bf3,Bxh3,gxh3,Qxh3,Re1,Qh2+,Kf1,Nh4,Bb2,Ne4,Bxe4,dxe4,Qg4,Nf3,Nxf3,exf3,Qxf3,h5,Qxc6,Qh3+,Qg2,Qd3+,Re2,Qd1+,Re1,Qd3+,Kg1,h4,Nc1,Qd2,Re2', 'Qd1+,Qf1,Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/dxN5k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DXoNq', 'Rapid', 'JansPeter', 2232, 'pensioner7', 2064, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,a6,Ba4,b5,Bc2,Nf6,Re1,g6,d4,cxd4,Bb3,dxc3,bxc3,Bg7,Bb2,O-O,h3,Na5,Nbd2,Nxb3,axb3,Qc7,Rc1,e6,Rc2,Bc6,c4,bxc4,Nxc4,Rfd8,Bxf6,Bxf6,Qd2,d5,exd5,Rxd5,Qe2,Rc5,Nce5,Bxf3,Qxf3,Rxc2,Qxa8+,Kg7,Qe4,Rb2,Ng4,Bc3,Qe3,h5,Rc1,Rxb3', 'Qh6+,Kg8,Nf6+,Bxf6,Rxc7', 'https://lichess.org/training/DXoNq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dXOTQ', 'Rapid', 'nick606', 1884, 'EDUCO', 1849, 'e4,c5,Nf3,d6,d4,Bg4,Bb5+,Bd7,Bxd7+,Nxd7,d5,g6,c4,Qa5+,Bd2,Qb6,b3,Bg7,Bc3,Bxc3+,Nxc3,Qb4,Qc2,Ngf6,O-O,O-O,Rfe1,Ne5,Nxe5,dxe5,Ne2,Qa5,f4,Nd7,f5,Nf6,Ng3,Qc7,Rad1,a5,Qf2,Kg7,d6,exd6,fxg6,fxg6,Qe2,Rf7,Rd3,Raf8,Red1,Ne8,Qg4,Kh8,Rf1,Nf6,Qe6,Nxe4', 'Rxf7,Qxf7,Qxf7,Rxf7,Nxe4', 'https://lichess.org/training/dXOTQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dxOvj', 'Rapid', 'emlai', 1655, 'Gegus', 1664, 'Nf3,Nc6,d4,d5,Bf4,Nf6,Nc3,e6,a3,h6,e3,Nh5,Bb5,Nxf4,Bxc6+,bxc6,exf4,Ba6,Qd2,Be7,O-O-O,O-O,h4,Qd6,g4,f6,g5,fxg5,Ne5,gxf4,Ne2,c5,Nxf4,cxd4,Qxd4,Bf6,Rde1,c5,Qe3,Bxe5,Qxe5,Qxe5,Rxe5,Rxf4,Rxe6,Bb7,Re7,Rb8,Rc7,d4,Rf1,Bg2,Re1,Rxf2,Ree7,Rf1+,Kd2,Rxb2,Rxg7+,Kf8,Rxg2,Rb5,Rxa7,c4,Rgg7,Rbb1,Rgd7,Rbd1+,Ke2,Rde1+,Kd2,Rd1+,Ke2,Rde1+,Kd2,Re8,Rh7,Rf2+,Kc1,Rg2,Rxh6,c3,Kb1,Re1+,Ka2,Rxc2+,Kb3,Rb2+,Kc4,Rg1', 'Rh8+,Rg8,Ra8+', 'https://lichess.org/training/dxOvj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dXP6h', 'Blitz', 'Soundtracker', 1507, 'Alfachino', 1518, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,Nf3,O-O,e3,Nc6,Be2,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Ne5,f6,Nxc6,bxc6,O-O,Bd7,f4,Rad8,Qb3,Rb8,Qc3,e5,d5,Qc5,f5,Rb7,a3,a5,Rad1,Rfb8,Rd2,a4,Kh1,Rb3,Qc2,Qxe3,d6,Rxb2,Qxb2,Rxb2,Rxb2,Bxf5,dxc7,Be6,c5,Qd4,Rd1,Qxb2,Rd8+,Kf7,Bh5+,Ke7', 'Re8+,Kd7,c8=Q#', 'https://lichess.org/training/dXP6h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dxRID', 'Rapid', 'AceWestfall', 1610, 'scorpions333', 1765, 'e4,c5,f4,e6,Nc3,h5,Bc4,g6,f5,Nc6,fxg6,fxg6,Nf3,Nf6,a3,Ng4,O-O,Nge5,Ba2,Bg7,d3,O-O,Bg5', 'Nxf3+,Rxf3,Qxg5', 'https://lichess.org/training/dxRID');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DXsZB', 'Blitz', 'Marillion65', 1642, 'kchaliki', 1677, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,Nc6,a4,e6,c3,Be7,O-O,O-O,Re1,b6,d4,cxd4,cxd4,d5,exd5,Nxd5,Nc3,Bb4,Bxd5,exd5,Bf4,Bg4,h3,Bh5,Qd3,Bg6,Qb5,Bxc3,bxc3,Na5,Ne5,Be4,f3,Bf5,Nc6,Nxc6,Qxc6,Rc8,Qb7,Qh4,Bh2,Rxc3,Qxd5,Rc2,Qxf5', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/DXsZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dXTNg', 'Rapid', 'Momot', 1868, 'kvasdopil1', 2047, 'e4,c5,Bc4,d6,f4,Nf6,Nc3,Nc6,a3,Nxe4,Nxe4,d5,Nxc5,dxc4,Nf3,e5,Ne4,f5,Nf2,e4,Ne5,Nxe5,fxe5,Be6,O-O,Bc5,Kh1,Qd5,d3,Bxf2,Rxf2,cxd3,cxd3,exd3,Bd2,O-O,Bc3,f4,Qd2,g5,Rd1,f3,Qxg5+,Kh8,g3,Qe4,Qe7,Rae8,Qc5,Rd8,Qe7,Qc4,Qxb7,d2,Rdxd2,Rxd2,Bxd2,Bd5,Qb4', 'Qf1+,Rxf1,f2+,Qe4,Bxe4#', 'https://lichess.org/training/dXTNg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dXtY7', 'Classical', 'ThierrySuisse', 1934, 'Humanplay2020', 1737, 'c4,d5,cxd5,Qxd5,Nf3,Bg4,Nc3,Qd8,Ne5,Nf6,Nxg4,Nxg4,Qa4+,Qd7,e4,e5,Qxd7+,Nxd7,Nd5,Bd6,Bc4,Ngf6,O-O,Nxe4,d3,Nef6,Re1,O-O,Bg5,Nxd5,Bxd5,Nc5,Rad1,h6,Bh4,Na4,Rb1,g5,Bg3,Nc5,Bc4,Rfe8,b4,Na4,Re3,Nc3,Rbe1,Bxb4,Rxe5,Rxe5,Rxe5,Kg7,Rf5,f6,Bxc7,Rc8,Bg3,Nxa2,Rb5,b6,f4,Nc3', 'Rxb4', 'https://lichess.org/training/dXtY7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DxTZw', 'Rapid', 'proustos', 2070, 'Braugomes', 2061, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,f3,O-O,Qd2,d5,exd5,Nxd5,Nxd5,Qxd5,Nxc6,Qxc6,O-O-O,Be6,Kb1,Rfd8', 'Qxd8+,Rxd8,Rxd8+,Bf8,Bh6', 'https://lichess.org/training/DxTZw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dXVfS', 'Blitz', 'Akmamedov_Mergen', 2295, 'thor_generalle', 2284, 'e3,d5,d4,e6,c4,c6,Nf3,Nf6,Bd3,Bd6,cxd5,exd5,O-O,O-O,h3,Be6,Nc3,Nbd7,Re1,Re8,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be7,Bxf6,Bxf6,Qh5,Qxd4,Rad1,Qxb2,Bh7+,Kf8,Rd7,Bxd7', 'Qh6+,Bg7,Qd6+,Re7,Qxe7#', 'https://lichess.org/training/dXVfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dxw1r', 'Rapid', 'Afzal1', 2146, 'scrimpton', 2156, 'Nc3,g6,e4,Bg7,Nf3,c5,Bc4,Nc6,O-O,d6,d3,Nf6,Bg5,h6,Be3,O-O,Kh1,Ng4,Bf4,a6,h3,Nge5,Bb3,Nxf3,Qxf3,Nd4,Qe3,Kh7,Qg3,b5,Bd5,Ra7,h4,Nxc2,Rac1,Nd4,a3,b4,axb4,cxb4,Na4,Ne2,Qe3,Nxc1,Rxc1,Rc7,Bc4,e5,Bg3,f5,Qb6,Re7,h5,f4,hxg6+,Kxg6,Bh4,Qxb6,Nxb6,Ree8,Nd5,Rf7,Nxb4,Rb7,Bxa6,Rxb4,Bxc8,Rxb2,Bd7,Reb8,Kh2,Bf6', 'Bf5+,Kf7,Rc7+,Ke8,Bxf6', 'https://lichess.org/training/Dxw1r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dXyLh', 'Rapid', 'Carlos_400', 2030, 'Pra_iy', 2039, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,a6,Bf4,Bg4,e3,e6,h3,Bh5,Be2,Bd6,Bg5,h6,Bxf6,Qxf6,O-O,O-O,e4,dxe4,Nxe4,Qe7,Ne5,Bxe2,Qxe2,Nd7,Nxd6,Qxd6,Rfd1,Rfd8,f4,Rac8,Qh5,Qe7,Qf3,Nb6,b3,Rd5,Rd2,Rcd8,Rad1,Nd7,Qc3,Qf6,g3,g5,Ng4,Qg7,fxg5,hxg5,Qc7,Nf6,Qxb7,Nxg4,hxg4,Rxd4,Rxd4,Rxd4,Qc8+,Kh7,Qc2+,Kg8,Qc8+,Kh7,Qc2+,Kh6', 'Qh2+,Kg6,Qh5+,Kf6,Rxd4', 'https://lichess.org/training/dXyLh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dxYnz', 'Blitz', 'Fast_And_Furius', 2063, 'FeelMyGirth', 2081, 'e4,c5,Nc3,e6,Bc4,Nc6,f4,d6,Nf3,Nf6,Bb3,a6,a4,Qc7,d3,Be7,O-O,O-O,Ne2,b6,c3,Bb7,Qe1,b5,axb5,axb5,Rb1,Na5,Bc2,Nd7,Qg3,Kh8,d4,Rg8,Qh3,Nf8,Ng5,Bxg5,fxg5,Ng6,Nf4,e5,Nxg6+,fxg6,Be3,cxd4,Rf3,dxe3', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/dxYnz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DY01r', 'Rapid', 'Panigol', 1785, 'Lelostar', 1863, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,a3,g6,Bg5,Bg7,e4,dxe4,Nxe4,O-O,d5,exd5,cxd5,Re8,dxc6,Rxe4+,Be2,Qxd1+,Rxd1,bxc6,Rd8+,Re8', 'Bxf6,Rxd8,Bxd8', 'https://lichess.org/training/DY01r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dy1vP', 'Blitz', 'Nories-MP', 2000, 'timur816', 1974, 'e4,c6,Ne2,d5,e5,Bg4,h3,Bh5,g4,Bg6,Nf4,e6,d4,Ne7,Bd3,Bxd3,Qxd3,Nd7,Nd2,Qb6,Nb3,a5,a4,c5,dxc5,Qc7,O-O,Nxc5,Nxc5,Qxc5,Be3,Qc7,Qb5+,Nc6,Nd3,Be7,Nc5,Rb8,Rfe1,O-O,f4,d4,Bf2,Rfd8,Red1,Nxe5,fxe5,Bxc5,Rd3,b6,Rad1,Qxe5,Qc4,Qg5,Bxd4,Bxd4+,Rxd4,Qe3+,Kg2,Rdc8', 'Qxc8+,Rxc8,Rd8+,Rxd8,Rxd8#', 'https://lichess.org/training/dy1vP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dY5JC', 'Rapid', 'SoullessCrow', 1819, 'augetto', 1824, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,Bxc5,Qxd5,Nd7,Bc4,Qe7+,Nge2,Ngf6,Qf3,O-O,Bg5,Ne5,Qf4,Ned7,O-O,Bd6,Qf3,Qe5,Bf4,Qc5,Bxd6,Qxd6,Rad1,Qc5,Bb3,Ne5,Qe3,Qxe3,fxe3,Nfg4,Nd5,Be6,h3,Bxd5,hxg4,Bxb3,axb3,Nxg4,Rd7,Nxe3,Rf3,Nxc2,Rxb7,a5,Nc3,Rae8,Nd5,Ne1,Rh3,Rb8,Ra7,Rxb3,Rxa5,Rxb2', 'Ne7+,Kh8,Rxh7+,Kxh7,Rh5#', 'https://lichess.org/training/dY5JC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DY5Y2', 'Rapid', 'koronov', 1662, 'Dimon2012', 2157, 'e4,g6,d4,Bg7,Nc3,d6,f4,Nf6,Nf3,O-O,Bd3,Nc6,h3,e5,d5,Nd4,Nxd4,exd4,Ne2,Re8,O-O,Nxe4,Bxe4,Rxe4,Qd3,Bf5,g4,Rxf4,gxf5,Rxf1+,Kxf1,Qf6,Qf3,gxf5,Ng3,Re8,Qxf5,Qh4,Qg4,Qf6+,Qf4,Qe7,Bd2,Be5,Qg4+,Kh8,Nf5,Qd7,Re1,Qb5+,Kg1,Rg8,Bg5,f6,Rxe5', 'Rxg5,Nxd4,Rxg4+', 'https://lichess.org/training/DY5Y2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dy5yv', 'Rapid', 'Jesus1999GM', 1996, 'thomas94033', 1819, 'e4,e5,Nf3,Bc5,Nxe5,Qh4,Qf3,Nf6,g3,Qxe4+,Qxe4,Nxe4,Nd3,O-O,Bg2,Re8,O-O,Bb6,Re1,d5,Nc3,c6,Nxe4,dxe4,Bxe4,Bh3,Bxh7+,Kf8,Rxe8+,Kxe8,Be4,Na6,Nf4,Bd7,d3,Nc5,Bd2,Nxe4,dxe4,Rd8,Rd1', 'Bg4,Rf1,Rxd2', 'https://lichess.org/training/Dy5yv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DyA5L', 'Rapid', 'QuiquePacheco', 1756, 'cris281', 1773, 'e4,Nc6,Bc4,e6,Nc3,Bb4,d3,d6,Be3,Nf6,Nf3,a6,a3,Ba5,O-O,b5,Ba2,e5,b4,Bb6,Nd5,Bxe3,fxe3,Nxd5,Bxd5,Bb7,Nd2,O-O,Qf3,Qe7,Rf2,Nd8,Bxb7,Nxb7,Raf1,Nd8,c4,f6,d4,Nf7,d5,Ng5,Qg4,Qe8,h4,h5,Qf5', 'g6,Qxf6,Rxf6', 'https://lichess.org/training/DyA5L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DybG3', 'Rapid', 'Daniel160316', 1757, 'And_G', 1637, 'e4,d5,exd5,c6,Nc3,Nf6,d4,cxd5,Nf3,Bg4,h3,Bf5,Bd3,Ne4,Nxe4,dxe4,Bb5+,Nc6,Ne5', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/DybG3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dYbhm', 'Classical', 'Railevich2011', 1997, 'MM1993', 1999, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Ne4,Nxe4,dxe4,Qd2,h6,Bh4,g5,Bg3,Bg7,e3,c5,d5,O-O,Ne2,Qb6,Nc3,Bf5,Be2,a6,O-O,Nd7,Rfd1,Ne5,Rab1,Qb4,Bxe5,Bxe5,Rdc1,a5,a3,Qb6,Nb5,Rfd8,b4,e6,bxc5,Qxc5,Nc3,Rd7,a4,Bxc3,Rxc3,exd5,Rb5,Qe7,cxd5,Be6,Rcc5,b6,Rc2,Qd6,Rc6', 'Qxc6,dxc6,Rxd2', 'https://lichess.org/training/dYbhm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DyCDp', 'Rapid', 'Reozaki', 1711, 'Nezhmet', 1750, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,d3,O-O,Nd5,d6,d4,Bg4,Nxf6+,Bxf6,d5,Nd4,c3,Nxf3+,gxf3,Bh5,Be3,Bg5,Qe2,a6,O-O-O,b5,Bd3,Qf6,Rdg1,h6,Rg3,Bf4,Rh3,Bg6,Kb1,Qg5,Qe1,Bxe3,Qxe3', 'Qg2,Rc1,Qxh3', 'https://lichess.org/training/DyCDp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dYClu', 'Blitz', 'Tulipan_Jones', 2033, 'Kuidate', 2056, 'd4,Nf6,Bf4,e6,Nf3,d5,c3,Be7,Nbd2,O-O,e3,c5,Bd3,cxd4,exd4,Nc6,O-O,h6,Re1,Bd6,Ne5,Bxe5,dxe5,Nd7,Qh5,f6,Qg6,fxe5,Qh7+,Kf7,Bg6+,Kf6,Bh5,exf4', 'Qg6+,Ke7,Rxe6#', 'https://lichess.org/training/dYClu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DyCmg', 'Rapid', 'Himdgr8', 1968, 'Carlo_Rossi', 2016, 'e4,c5,c3,e5,Nf3,Nc6,d4,cxd4,cxd4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,O-O,O-O,Re8,f3,d5,Re1,d4,Ne2,Bxe1,Qxe1,a5,Bg5,h6,Bh4,c5,Qg3,Ba6,e5,Bxd3', 'Bxf6,Bg6,Bxd8', 'https://lichess.org/training/DyCmg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dYDjp', 'Rapid', 'Mancheng', 1734, 'Painki1ler', 1761, 'd3,Nf6,e4,Nc6,Nc3,e5,Bg5,Be7,Nf3,O-O,h3,d5,exd5,Nxd5,Nxd5,Bxg5,Nxg5,Qxd5,Be2', 'Qxg2,Bf3,Qxg5', 'https://lichess.org/training/dYDjp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DyDRG', 'Blitz', 'and1cuni', 1550, 'ClesioMiranda', 1560, 'c4,e5,e4,Nf6,Nc3,Nc6,d3,h6,g3,Bc5,Bg2,O-O,f4,d6,f5,a6,a3,Ba7,Nge2,Re8,Nd5,Nd4,Nxd4,Bxd4,Rb1,Nxd5,cxd5,Qf6,Qf3,c5,Be3,b6,O-O,b5,b3,a5,Bxd4,cxd4,b4,axb4,axb4,Ra3,Qd1,Qg5,Qc2,Qe3+,Kh1,Qxd3,Qc6,Rd8,Qc7,Rf8,Qxd6,Ra2,Qxe5,Qe2,Rg1,f6,Qd6,h5,Qc5,d3,Qxb5,Ba6,Qc5,d2,Rbd1,Bd3,d6,Bxe4,d7,Bxg2+,Rxg2,Qe4,Qxf8+,Kxf8,d8=Q+,Kf7,Qd7+,Kg8,Kg1', 'Qe1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/DyDRG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dyegr', 'Blitz', 'imspiderman', 1647, 'bouquinophile', 1705, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,d6,Bd3,Nbd7,c3,b6,Nbd2,Bb7,Qe2,O-O,O-O-O,Re8,h4,e5,dxe5,dxe5,Bg5,e4,Nxe4,Bxe4,h5,Bxf3,Qxf3,h6,Bxf6,Nxf6,hxg6,fxg6,Bxg6,Qe7,Bxe8,Rxe8,Qg3,Kh7,Qf4,Qe6,Kb1,c5,Rdg1,Nd5,Qc4,Qf5+,Ka1,Qxf2,Qxd5,Rxe3,Rf1,Qe2,Qf5+,Kh8,g4,Rxc3,g5', 'Rc1+,Rxc1,Qxb2#', 'https://lichess.org/training/Dyegr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DYfk3', 'Rapid', 'pirja', 1820, 'vvm01', 1609, 'e4,e5,Nf3,Nc6,b3,Bc5,Bb2,d6,Bb5,Bd7,Bxc6,Bxc6,d3,Nf6,Nbd2,h6,h3,O-O,g4,d5,Bxe5,dxe4,Bxf6,Qxf6,dxe4,Rae8,O-O,Bxe4,Nxe4,Rxe4,Qd3,Rf4,Kg2,Rd8,Qe2,a6,Rad1,Rxd1,Rxd1,c6,Qe8+,Kh7,Rd3,Qb2,g5,Qxc2,g6+,Kxg6,Rd2,Qc3,Ne5+,Kg5,h4+,Rxh4', 'Nf3+,Qxf3+,Kxf3', 'https://lichess.org/training/DYfk3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dyfqd', 'Rapid', 'Gambitogambito', 1872, 'weedherbs', 1820, 'e4,e5,Nc3,Nf6,Bc4,Nc6,f3,d5,exd5,Nb4,Nge2,Nbxd5,O-O,Be6,Ne4,Nxe4,fxe4,Ne3,dxe3,Bxc4,Qe1,Bc5,b3,Be6,Qg3,O-O,Bb2,Qd2,Bxe5,Qxe3+,Qxe3,Bxe3+,Kh1,Rfd8,Rad1,Bg4,Rxd8+,Rxd8,Nc1,f6,Bxc7,Rd2,c4,Rc2,h3,Bh5,Nd3,Rxa2,Nf4,Bxf4,Bxf4,Rb2,Ra1,a6,Ra5,Bg6,e5,Rxb3,exf6,gxf6,Rd5,Rb4,Rd7,Rxc4,Bh6,b5,Rg7+,Kh8,Ra7,Rc8,Bg7+,Kg8,Bxf6,Rc6,Bg7,b4,Bh6,b3,Rg7+,Kh8,Rb7,Be8,Rxb3', 'Rxh6,Rb8,Re6', 'https://lichess.org/training/Dyfqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DYIeS', 'Blitz', 'bayramiaslh68', 1941, 'draganmlad', 1940, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,Nb6,Bb3,c5,d3,Nc6,Be3,Nd4,Bxd4,cxd4,Ne4,e5,Ne2,Be7,O-O,O-O,f4,Nd5,fxe5,Ne3,Qd2,Nxf1,Rxf1,a5,a4,Qb6,Qf4,Be6,Bxe6,fxe6,Qg4,Rxf1+,Kxf1,Rf8+,Kg1,h6,h3,Rf5,N2g3,Rxe5,Nh5,Bf8,Qg6,Rxh5', 'Nf6+,Kh8,Qh7#', 'https://lichess.org/training/DYIeS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DYjQe', 'Rapid', 'Curseofthesadmonk', 1616, 'Schachtrottle', 1662, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bg5,O-O,h4,dxc4,h5,Nd5,Bxe7,Nxc3,bxc3,Qxe7,h6,g6,e3,b5,a4,c6,Ne5,f6,Nxg6,hxg6,Qg4,Kh7,axb5,cxb5,Be2,Bb7,Bf3,Nc6,Bxc6,Bxc6,Ra6,Bd5,e4,Bxe4,Qxe4,e5,d5,f5,Qe3,e4,Qg3,Rf6,Qg5,Raf8,d6,Qe5,Rxa7+,R8f7,d7,Qxc3+,Ke2,Qd3+,Ke1,Rxd7', 'Rxd7+,Qxd7,Qxf6', 'https://lichess.org/training/DYjQe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dYla9', 'Blitz', 'Samy1975', 2466, 'notjannlee', 2613, 'd4,d5,c4,Nc6,cxd5,Qxd5,Nf3,e5,Nc3,Bb4,Bd2,Bxc3,Bxc3,e4,Ne5,Nxe5,dxe5,Ne7,e3,O-O,Be2,Be6,O-O,Ng6,Qxd5,Bxd5,Rfd1,Rad8,f4,exf3,gxf3,Nh4,Kf2,Rfe8,Rd2,Bc6,Rad1,Rxd2,Rxd2,Ng6,f4,Ne7,Bf3,h6,Bb4,Bxf3,Kxf3,Nc6,Bc3,Rd8,Rg2,Kf8,f5,b5,a3,a5,f6,b4,fxg7+,Kg8,axb4,axb4,Be1,Nxe5+,Ke4,Re8,Kd5,Nd3,Bh4,Rxe3,Kd4,Rh3,Bg3,f5,Kxd3,f4,Kc4,fxg3,Rxg3,Rxh2,b3,Rh4+,Kc5,h5,Rg5,c6,Kxc6,Rh3,Kd6,h4,Rg4,Rd3+,Ke6,h3,Rxb4,h2,Rh4,Kxg7,b4,Rd4,Rxh2,Rxb4,Kf5,Rb5+,Ke6,Rb6+,Ke7,Rb5,Rg2+,Kh6,Kf6,Rh5,Rg8,Kh7,Rg7+,Kh8,Rg2,Rh1,Kg6,Ra1,Re2,Ra6+,Kh5,Ra5+,Kg6,Ra6+,Kf7,Ra5', 'Rh2+,Rh5,Rxh5#', 'https://lichess.org/training/dYla9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dYlVJ', 'Classical', 'Namanporwal1312', 1772, 'bedisunny7', 1883, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,c4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,O-O,Qc7,Rc1,Nbd7,Qd2,Nc5,f3,Be6,Rfd1,Rfc8,g4,Ncd7,Nxe6,fxe6,Kh1,Rf8,b4,b6,h4,Ne5,g5,Nh5,Kg2,d5,cxd5,Nxf3,d6,Nxh4+,Kh3,Qb7,dxe7,Qxe7,Kxh4,Qxb4,Bxh5,gxh5,Qd6,Bxc3,Qxe6+,Kh8,Rxc3,Rae8,Bd4+,Qxd4,Qxe8', 'Qf2+,Kh3,Rxe8', 'https://lichess.org/training/dYlVJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dYMby', 'Classical', 'LegendarnyAfrojax', 1777, 'migriauliz', 1881, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Nxd4,Qxd4,b6,Bf4,Bb7,Nb5,a6', 'Nc7+,Qxc7,Bxc7', 'https://lichess.org/training/dYMby');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dymN6', 'Classical', 'srbijaSah', 2003, 'OMEGALORD', 1660, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Qf6,Nxc3,Bb4,Bd2,Nc6,Nge2,d6,O-O,Be6,Bxe6,Qxe6,Nd5,Qxe4,Nxc7+,Kd7,Nxa8,Nf6,Re1,Bxd2,Qxd2,Qb4,Qxb4,Nxb4,a3,Nc2,Nb6+,axb6,Rac1,Nxe1,Rxe1,Re8,Kf1,Nd5,Rd1,Kc6,Nd4+,Kc5,b4+,Kc4,Nf5,Nc3,Nxd6+,Kb3,Rd3,Kc2', 'Rxc3+,Kxc3,Nxe8', 'https://lichess.org/training/dymN6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DyMpK', 'Blitz', 'jole99', 2215, 'DeFish', 2094, 'e4,c5,a3,Nc6,b4,cxb4,axb4,Nxb4,d4,Qc7,c3,Nc6,Na3,g6,Nb5,Qb8,Nf3,a6,Na3,Bg7,Bd3,Nf6,O-O,O-O,g3,e5,d5,Ne7,c4,d6,c5,dxc5,Bb2,Nd7,Nc4,f5,Qe2,f4,d6,Nc6,Nfxe5,Ndxe5,Nxe5,Bxe5,Bc4+,Kg7,Bd5,Bxb2,Qxb2+,Rf6,e5,Rf5,e6+,Kh6,Be4,Rg5,e7,Bd7,Qd2,Qg8,Qxf4,Qe6,Qh4+,Rh5,Qf4+,g5', 'Qf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/DyMpK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dYmte', 'Blitz', 'Zork_I', 1696, 'adrilen', 1685, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,d3,Nc6,g3,Bg4,Bg2,e4,dxe4,Qxe4+,Be3,Nd4,O-O,Nxf3+,Bxf3,Bxf3,Qd2,Bh1,f3,Bxf3,Rae1,Be7,Bg5,Rd8,Qa5,Qd4+,Rf2,Rd7,Qa3,O-O,Bxe7,Re8,Qxf3,Rdxe7', 'Qxf7+,Rxf7,Rxe8+,Rf8,Rxf8#', 'https://lichess.org/training/dYmte');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DYnau', 'Blitz', 'yoisnel', 2347, 'IM damestar', 2429, 'd4,Nf6,Nc3,d6,e4,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg5,c6,O-O-O+,Kc7,f4,h6,Bh4,Ng4', 'Bd8#', 'https://lichess.org/training/DYnau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DYOB0', 'Blitz', 'FM joflo', 2498, 'schorsch80', 2315, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Bg4,Be2,h5,d3,Bc5,Be3,Bd4,Nc3,O-O,h3,Bf5,Bxh5,Rb8,O-O,Rxb2,Qf3,Bg6,Bxg6,fxg6,Bxd4,exd4,Nce4', 'Nxe4,Qxe4,Qxg5', 'https://lichess.org/training/DYOB0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dyq0U', 'Blitz', 'AB_Horca_NSamar', 1767, 'Jason_Anino_NSamar', 1836, 'e4,c6,Nf3,d5,exd5,cxd5,c3,Nf6,d4,Bg4,Be2,e6,O-O,Bd6,Bg5,Be7,h3,Bh5,Ne5,Bxe2,Qxe2,O-O,Nd2,Nc6,a4,a6,f4,Rc8,Rac1,Nxe5,fxe5,Nd7,Bxe7,Qxe7,b4,f6,Rce1,fxe5,dxe5,Rxc3,b5,Rc2,Rxf8+,Nxf8,Rd1,Ng6,g3,Qc5+,Kh2,Qc3,bxa6,bxa6,h4,Nxe5,Kh3,g6,Re1,Qxd2,Qxe5,Qg2+,Kg4,Rc6,Qb8+,Kg7,Qb7+,Kf6,Qxc6', 'h5+,Kf4,Qf2#', 'https://lichess.org/training/dyq0U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DyQaU', 'Rapid', 'Aleksey_Grigorev', 1939, 'capajan', 1958, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be3,Bb4,Bd3,d5,Nxc6,bxc6,e5,d4,exf6,Qxf6,O-O,Bxc3,bxc3,dxe3,fxe3,Qxc3,Qf3,O-O,Rab1,e5,Be4,Be6,Bxc6,Rab8,Rxb8,Rxb8,a4,Qxc2,Be4,Qxa4,Rd1,a5,Bc6,Qg4,Qf1,h5,Qd3,Rc8,Bf3,Qf5,Be4,Qg4', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/DyQaU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dYSbD', 'Blitz', 'alsem', 2184, 'MrCalderon', 2230, 'd4,d6,c4,e6,Nc3,f6,e4,c6,f3,b6,Be3,g6,Bd3,Ne7,Nge2,Nd7,O-O,Bb7,Qd2,h6,f4,Qc7,Ng3,Bg7,f5,gxf5,exf5,e5,Nh5,Bf8,Ne4,Ng8,Rac1,O-O-O,d5,c5,a3,a5,Rb1,Rh7,b4,cxb4,axb4,axb4,Qxb4,Nc5,Bc2,Qf7,Nhg3,h5,Qxb6,h4,Nxc5,hxg3,Ne6,Rd7,h3,Bh6,Bxh6,Nxh6,Ba4,Ng4,Bxd7+,Qxd7,hxg4', 'Rh1+,Kxh1,Qh7+,Kg1,Qh2#', 'https://lichess.org/training/dYSbD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DyTjr', 'Blitz', 'Dornogovi', 2073, 'drgfk44', 2162, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nd7,Ne5,a6,Ba4,b5,Nxd7,Qxd7,Bb3,Bb7,O-O,Nf6,d4,e6,c3,Be7,Bg5,O-O,Bc2,h6,Bh4,Ne4,Bxe7,Qxe7,Qd3,Rac8,Nd2,Nf6,Nf3,b4,Ne5,a5,Ng4,Ne4,f3,h5,fxe4,dxe4,Nh6+,gxh6,Qh3,Qg5,Rae1,f5,Re3,Kh8,Rg3,Qf6,Qxh5,Rg8,Rh3,Rg6,Rf4,Rcg8,g3,bxc3,bxc3,e5,Rfh4,Kg7,dxe5,Qxe5,Rf4,Qxc3,Bb3,Qe3+,Rf2,Qc1+,Rf1,Qc5+,Rf2,e3,Rxf5', 'e2+,Rxc5,e1=Q#', 'https://lichess.org/training/DyTjr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DYvIY', 'Rapid', 'StGr', 1751, 'fktdark', 1924, 'e4,c5,Nc3,Nc6,g3,e5,d3,h6,Bg2,Nf6,Nge2,a6,O-O,b5,f4,d6,f5,Bb7,Be3,Nd4,h3,Qd7,a3,Bc6,g4,a5,Ng3,b4,axb4,axb4,Rxa8+,Bxa8,Nce2,Qa7,c3,bxc3,bxc3,Nxe2+,Nxe2,Be7,d4,Bxe4,Bxe4,Nxe4,dxe5,dxe5,Qd5,Nf6,Qxe5,O-O,Nf4,Re8,Nd5,Bf8', 'Nxf6+,gxf6,Qxe8,Qe7,Qxe7', 'https://lichess.org/training/DYvIY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DyvLd', 'Rapid', 'Fat_Igbo_Landlord', 1890, 'Nima1111', 1865, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Be7,d4,exd4,Nxd4,Bd7,Nc3,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,Bf4,O-O,Rad1,Rad8,Qxa7,b6,Rfe1', 'Ra8,Qb7,Rfb8,Qxb8+,Rxb8', 'https://lichess.org/training/DyvLd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dYWY0', 'Blitz', 'irfaniman_1510', 1770, 'Satish9794', 1911, 'd4,Nf6,Bf4,g6,e3,Bg7,c3,O-O,Nd2,d6,Ngf3,Nh5,Bg3,Nxg3,hxg3,c5,Bd3,Nc6,Bc2,Bd7,Ng5,h6,Nh3,cxd4,exd4,Re8,Qf3,e5,O-O-O,exd4,Bb3,Be6,Bxe6,Rxe6,Nf4,Rf6,Qg4,dxc3,bxc3,Ne5,Qe2,Qa5,Ne4,Rf5,Nh3,Rc8,Qb2,b6,Nxd6,Rxc3+,Kb1,Nc4,Nxc4,Rxc4,Rd8+,Kh7', 'Ng5+,Rxg5,Rxh6+,Kxh6,Rh8+,Bxh8,Qxh8#', 'https://lichess.org/training/dYWY0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dYZNT', 'Blitz', 'FunnyHorsie', 1825, 'malelo', 1864, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,e3,c5,Nf3,cxd4,exd4,Bxc3,Bxc3,Ne4,Bd3,d5,O-O,f5,Ne5,Nc6,f4,Nxe5,fxe5,Qg5,Bxe4,Qe3+,Kh1,Qxe4,cxd5,Qxd5,Qb3,Rd8,Rad1,Qxb3,axb3,Rd5,g4,g6,gxf5,gxf5,Rg1+,Kf7,Rg5,h6,Rh5,Kg6,Rh3,Bd7,Rg1+,Kh7', 'Bd2,f4,Bxf4,h5,Rxh5#', 'https://lichess.org/training/dYZNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZ0cx', 'Rapid', 'Alteroc', 1937, 'RENATOFISH', 1879, 'e4,e5,Nf3,Nf6,Nc3,d6,d4,exd4,Nxd4,g6,Bg5,Bg7,Bb5+,c6,Be2,O-O,Qd2,Nbd7,h4,h5,f4,Qc7,f5,Kh7,O-O-O,b5,g4,b4,gxh5,Nxh5,Bxh5,gxh5,Nce2,Ba6,Kb1,c5,Nf3,Qc6,Qxd6', 'Qxd6,Rxd6,Bxe2', 'https://lichess.org/training/dZ0cx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZ1Jl', 'Rapid', 'BenX01', 1724, 'mar2020mar', 1733, 'e4,e5,Bc4,Nf6,d4,d6,dxe5,dxe5,Nf3,Qxd1+,Kxd1,Nc6,Ke2,Bd6,Rd1,Nxe4,Nc3,Nxc3+,bxc3,O-O,Kf1,Kh8,Bb2,f5,Bb3,h6,c4,e4,Nh4,Kh7,Re1,g5,g3,gxh4,gxh4,Bxh2,Ke2,f4,h5,Bg4+,Kd2,Rad8+,Kc1,Nd4,Rxe4,Nxb3+,cxb3,Rd1+,Kc2,Rxa1', 'Re7+,Rf7,Rxf7+,Kg8,Rg7+', 'https://lichess.org/training/dZ1Jl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dz2Oi', 'Blitz', 'cuanki2000', 2280, 'NM good_knight_kisses', 2393, 'd4,Nf6,Nf3,g6,Bg5,Bg7,e3,d6,Bd3,O-O,O-O,Nc6,c3,e5,dxe5,dxe5,Be2,Qe7,Qb3,h6,Bh4,g5,Bg3,Ne4,Nbd2,Nxg3,hxg3,Qc5,Rad1,Qb6,Rfe1,Be6,Qc2,Rad8,b3,f5,Nc4,Qc5,Rxd8,Rxd8,Rd1,Rxd1+,Qxd1,b5,Na3,a6,Nb1,Qd6,Qxd6,cxd6,Kf1,Kf7,Ke1,d5,Kd2,g4,Ne1,h5,Nd3,Bf8,a3,Bd6,b4,Kf6,Kc2,Kg5,Nd2,f4,exf4+,exf4,gxf4+,Bxf4,Nc5,Bc8,g3,Bd6,Ndb3,Ne5,a4,bxa4,Nxa4,Bf5+,Kd2,Nc4+,Ke1,h4,gxh4+,Kxh4,Nd4,Bc8,Nb6,Bb7,Nxc4,dxc4,Bxc4,Kg5,Be2,Kf4,Ne6+,Ke5,Nd4,Bc8,Kd2,Bxb4,Kd3,Bc5,Bf1,Bxd4,cxd4+,Kf4,Be2,a5,Kc4', 'Ba6+,Kc5,Bxe2', 'https://lichess.org/training/Dz2Oi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZ3Fq', 'Rapid', 'WetCardboardBox', 1924, 'fauzilbert89', 1921, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nde2,Be6,g4,h6,g5,hxg5,Bxg5,Be7,Qd2,Rh5,O-O-O,Rxg5,Qxg5,Nxe4,Qxg7,Nxf2,Bg2,Nxd1,Rxd1,Nc6,Ne4,d5,N2c3,d4,Na4,Nb4,c3,Nxa2+,Kb1,Qa5,Qg8+,Kd7,Qxa8,Qxa4,Qxb7+,Ke8,Nf6+,Bxf6', 'Bc6+,Qxc6,Qxc6+', 'https://lichess.org/training/dZ3Fq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZ4Oj', 'Blitz', 'Chessinio', 1575, 'mysepecy', 1543, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,a5,a4,b4,c3,Nf6,d3,d5,exd5,Nxd5,O-O,bxc3,Nxc3,Nxc3,bxc3,Bd6,Re1,O-O,Bb2,Re8,Qc2,Rb8,Rad1,Bg4,Bd5,Bxf3,Bxf3,Rb6,d4,exd4,cxd4,Rxe1+,Rxe1,Nb4,Qe2,Kf8,Qe3,Nc2,Qc3,Nxe1,d5,Bb4,Qxg7+,Ke8,Bg4,Bf8,Qe5+,Qe7,Qd4,Nc2,Qc3,Rxb2', 'Qc6+,Kd8,Qa8+,Rb8,Qxb8#', 'https://lichess.org/training/dZ4Oj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dz4r5', 'Rapid', 'SeCOBaba', 1902, 'Larazaz', 1927, 'e4,b6,Nf3,Bb7,Nc3,Nf6,Bc4,Nxe4,Nxe4,Bxe4,Bxf7+,Kxf7,Ng5+,Ke8,Nxe4,e6,d3,Nc6,c3,Qh4', 'Bg5,Qxe4+,dxe4', 'https://lichess.org/training/Dz4r5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dz5uq', 'Rapid', 'CharlyCastillo', 1882, 'bobchess77', 1936, 'f4,d5,Nf3,Bg4,e3,e6,b3,a6,Bb2,Nf6,h3,Bh5,g4,Bg6,Be2,Be4,d3,Bxf3,Bxf3,Nc6,Nd2,Bb4,g5,Nd7,Bxg7,Rg8,Bh6,f6,h4,e5,Bh5+,Ke7,fxe5,fxe5,g6,hxg6,Bg5+,Nf6,Rf1,Bxd2+,Qxd2,Rf8,Bxf6+,Rxf6,Rxf6,Kxf6,Qf2+,Kg7,Bg4,Qf6,Qxf6+,Kxf6,O-O-O,Rh8,Rf1+,Kg7,Be6,Nd8,Bxd5,c6,Be4,Rxh4,Rg1,Rh6,Kb2,Ne6,a4,Nc5,Bf3,Rh2,Kc3,Rh3,Bg4,Rxe3,Bf5,Kf6,Bxg6,e4,Kc4,Nd7,Bxe4,Ne5+,Kd4,Re2,Rf1+,Ke6,Bf5+,Kd6,Bc8,c5+,Kc3,b5,axb5,axb5,Rf6+,Kc7,Bh3,b4+,Kb2,Nxd3+,Kb1,Re1+,Ka2,Nc1+,Kb2,Rh1,Bg4,Rg1,Bf3,Rf1,Rf5,Kd6,Rd5+,Kc6,Rg5+,Rxf3,Kxc1,Rf1+,Kd2,Rf2+,Kd3,Rf3+,Kc4', 'Rc3#', 'https://lichess.org/training/dz5uq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DZ6Eo', 'Rapid', 'Ghasemshokri51', 1929, 'MadBrain93', 1928, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Bd6,f4,exf4,Bxg7,Qh4+,Kf1,fxe3,dxe3,Bf5,Qxd5,Be4,Nf3,Qg4,h3,Qxg7,Qxe4+,Kd7,Bxc6+,bxc6,Qg4+,Qxg4,hxg4,Nf6,g5,Ne4,Ke1,Bb4+,c3,Nxc3,Nbd2,Rae8,Kf2,Bc5,Nc4,Ne4+,Ke1,Ng3,Rh3,Nf5,Nce5+,Kc8,Nxf7,Nxe3,Nxh8,Nc2+,Kd2,Nxa1,Rxh7,Bb4+,Kc1,Rd8,g6', 'Ba3+,Kb1,Rd1#', 'https://lichess.org/training/DZ6Eo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dz7qM', 'Bullet', 'davidseby', 1864, 'olegsap', 1760, 'd4,e6,c4,b6,Nc3,Bb7,e4,Bb4,d5,Bxc3+,bxc3,exd5,cxd5,h6,Nf3,Na6,Bd3,Qe7,O-O,Nc5,c4,O-O-O,Ba3,Nf6,Bxc5,Qxc5,Ne5,Qe7,f4,d6,Nc6,Bxc6,dxc6,Kb8,Qa4,Ka8,Qa6,Rb8,Rae1,Rhe8,e5,dxe5,fxe5,Ng8,Bf5,Qc5+,Kh1,Rxe5,Bd7,Rxe1,Rxe1,Ne7,h3,Nxc6,Re8,Nb4', 'Rxb8+,Kxb8,Qc8#', 'https://lichess.org/training/dz7qM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dzaFn', 'Rapid', 'VladimirMalachov', 1810, 'raghukknn', 1684, 'd4,d5,c4,e6,cxd5,Qxd5,h3,Nf6,a3,h6,Nc3,Qd8,e4,a6,Bf4,Bd7,Bc4,c5,e5,Nh7,Nge2,Nc6,d5,exd5,Bxd5,Rc8,Qb3,Qe7,O-O-O,Be6,Bxe6,Qxe6,Qxb7,Be7,Nd5,O-O,Nxe7+,Nxe7,Kb1,Ng6,Rd6', 'Qf5+,Ka1,Nxf4', 'https://lichess.org/training/dzaFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZbxP', 'Classical', 'K_CaPtAiN2084AmOs_K', 1847, 'im4y', 1627, 'd4,Nf6,Bg5,Ne4,Bf4,d5,Nd2,Nxd2,Qxd2,c5,c3,e6,e3,Nc6,Bb5,a6,Bxc6+,bxc6,Nf3,cxd4,cxd4,Rb8,O-O,c5,Bxb8,Qb6,Bg3,cxd4,Nxd4,Bc5,b3,Bb4,Qc2,O-O,Qc6,Qa5,Bd6,Bxd6,Qxd6,Rd8,Nc6,Qb6,Nxd8,Qxd6,Rac1,Qxd8,Rc2,g6,Rfc1,Bd7,Rc7,Qe8,Ra7,Bb5,Rcc7,Kg7,Re7,Qf8,f4,Kf6,g4,Qxe7', 'g5+,Kf5,Rxe7', 'https://lichess.org/training/dZbxP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DzDjH', 'Rapid', 'beniowski88', 1608, 'mauriciochess01', 1606, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d6,O-O,Na5,Bb5+,c6,Ba4,b5,Bb3,Nxb3,axb3,Be7,Be3,a6,Nc3,O-O,h3,Qc7,d4,b4,Na4,Nxe4,dxe5,c5,exd6,Bxd6,Qd3,Bb7,Rad1,Rad8,Qc4,Rfe8,Ng5,Nxg5,Bxg5,Bh2+,Kh1,Rxd1,Rxd1,h6,Be3,Rxe3,fxe3,Bxg2+,Kxg2,Qg3+,Kf1,Qg1+,Ke2,Qg2+,Ke1', 'Bg3#', 'https://lichess.org/training/DzDjH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DZDo0', 'Blitz', 'king_hunterX', 1724, 'leeuloop', 1728, 'e4,d5,exd5,Nf6,Nf3,Bg4,Be2,Qxd5,h3,Qh5,d4,Nc6,Bf4,O-O-O,c3,e5,Bh2,Bxh3,gxh3,Qxh3,Ng5,Qg2,Bf3,Qxg5,Rg1,Qh6,Rg2,exd4,Qa4,dxc3,Bxc6,bxc6,Nxc3,Qd2+,Kf1,Qd3+,Kg1,Rd6,Bxd6,Bxd6,Qxc6,Re8,Rd1', 'Qxd1+,Nxd1,Re1#', 'https://lichess.org/training/DZDo0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DZDUV', 'Blitz', 'Arsh-king84', 1813, 'saman152', 1824, 'e4,d6,Nc3,f5,d3,Nf6,g3,e5,Bg2,Be7,Nge2,O-O,O-O,fxe4,dxe4,Nc6,f4,exf4,gxf4,Bg4,h3,Bh5,Be3,d5,Nxd5,Nxd5,exd5,Nb4,a3,Na6,b4,Bd6,c4,Qh4,c5,Bxf4,Bxf4,Rxf4,Rxf4,Qg5,Rf2,Qe3,d6,cxd6,Qd5+,Bf7,Qxf7+,Kh8,Qf8+,Rxf8,Rf1,Rxf2,Rxf2,h6,Kf1,dxc5,Rf8+,Kh7,Nf4,Qc1+,Kf2,Qb2+,Kg3,Qxa3+,Kh2,g5', 'Be4+,Kg7,Ne6#', 'https://lichess.org/training/DZDUV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dzf0j', 'Rapid', 'DrajverDrum', 2281, 'ScottPilgrim', 2170, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng5,e6,Bc4,Be7,N5f3,Nd7,Ne2,Ngf6,Ng3,Bg6,O-O,O-O,c3,c5,Re1,cxd4,Nxd4,Re8,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,Qc7,Qf3,a6,Bf4,Bd6,Bxd6,Qxd6,Rad1,Qb6,Rd2,Rad8,Red1,Nc5,b4,Ncd7,a4,Ne5,Qe2,Qc7,Rc2,Nc4,Nb3,Rxd1+,Qxd1,Rd8,Qe2,b6,Rc1,Qf4,Rd1,Rxd1+,Qxd1,Nd5,Qe1,Qe5,Qxe5,Nxe5,Ne2,Nc4,Kf1,Nb2,a5,bxa5,bxa5,Nc4,Nc5,Nxa5,Nxa6,Nc4,Nb4,Kf8,Nxd5,exd5,Nd4,Nd6,f3,Ke7,Ke2,Kf6,g4,Ke5,Ke3,Nc4+,Kd3,Nb2+,Kc2,Nc4,Nf5,Kf4,Nxg7,Kxf3,g5,hxg5,h6,Ne5,Nf5,Ng6,h7,g4', 'Nh4+,Nxh4,h8=Q', 'https://lichess.org/training/Dzf0j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dzFdM', 'Blitz', 'creising', 1916, 'teftis_2017', 1954, 'd4,e6,c4,d5,Nc3,Bb4,Bd2,dxc4,e4,Bxc3,Bxc3,b5,a4,c6,axb5,cxb5,b3,Qc7,bxc4,bxc4,Nf3,Bd7,Ne5,Bb5,Ba5,Qc8,Nxc4,Bxc4,Qa4+,Qd7,Qxc4,Nc6,Bc3,Nf6,Bd3,Rc8,O-O,Ne5,Qb5,Rxc3,dxe5,Rxd3,Qb8+,Qd8,Qxd8+,Rxd8,exf6,gxf6,Rxa7,O-O,f4,Rd4,e5,fxe5,fxe5,Re4,Ra5,Rd8,Rf3,Rd1+,Kf2,Rde1,Ra8+,Kg7,Rg3+,Kh6,Rh3+,Kg6', 'Rg8+,Kf5,Rh5+,Kf4,g3#', 'https://lichess.org/training/dzFdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DzhIZ', 'Rapid', 'MaxBrito', 1604, 'reallife', 1657, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,h3,e5,Nf3,e4,Nh2,Bf5,Nc3,Bc5,Be2,Nd4,O-O,O-O,a3,a6,b4,Bd6,Re1,Qc7,Nf1,Rad8,c5,Be5,Ra2,e3,fxe3,Nxe2+,Nxe2,Ne4,d3,Rxd3,Qxd3,Rd8,Qb3,Be6,Qb1,Bxa2,Qxa2,Kh8,Bb2,Bxb2,Qxb2,Qe7,Nd4,Qf6,Qc2,Re8,Nh2,Ng3,Ng4,Qh4,Qa4,Rf8,Qd7,Ne4,Qxb7,Qxe1+,Kh2,Ng3,Qf3', 'Nf1+,Qxf1,Qxf1', 'https://lichess.org/training/DzhIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DZiQx', 'Blitz', 'Steed28', 2046, 'Beresta', 1896, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,Qc7,Re1,e6,e5,a5,d3,Ne7,a4,c4,dxc4,Nf5,g4,Ne7,Nc3,Ng6,h4,h5,g5,Bb7,Ne4,c5,Qd3,Nxe5,Nxe5,d6,Nf3,d5,cxd5,Bxd5,Qxd5,exd5', 'Nf6+,Kd8,Re8#', 'https://lichess.org/training/DZiQx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZjbf', 'Blitz', 'suryamagar', 1799, 'Pdpgrgn', 1769, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Ne4,cxd4,Bb4+,Bd2,Nxd2,Nbxd2,O-O,a3,Bxd2+,Qxd2,Re8,O-O,d6,exd6,cxd6,Rad1,d5,Ba2,Qf6,h3,Bxh3,Ne5,Nxe5,dxe5,Rxe5,gxh3,Qf3,Qd3', 'Rg5+,Kh2,Qg2#', 'https://lichess.org/training/dZjbf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DZKjX', 'Blitz', 'Doogii777', 1853, 'ratomir', 1833, 'e4,c5,f4,d5,e5,e6,Nf3,Ne7,c4,Nbc6,Nc3,d4,Ne4,Nf5,d3,Be7,Be2,O-O,g4,Nh4,O-O,Kh8,Nxh4,Bxh4,f5,exf5,gxf5,Nxe5,Nxc5,Qf6,Ne4,Qd8,Bf4,Bf6,Kh1,Bxf5,Bxe5,Bxe4+,dxe4,Bxe5,Rf5,f6,Bd3,a5,Qg4,Ra6,Rg1,Qe7,Rh5,Rb6,b3,Rd6,Rh3,b6,Qd1,Qb7,Rg2,Rd7,Qh5,h6,Qg6,f5,Rxh6+,gxh6', 'Qxh6+,Rh7,Qxf8#', 'https://lichess.org/training/DZKjX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DZkK4', 'Rapid', 'seva1922', 1607, 'Johnny9', 1608, 'd4,d5,e3,Nc6,a3,Nf6,Nd2,e5,c3,exd4,cxd4,Qe7,b4,Nxd4,Bb5+,Nxb5,Ngf3,Bg4,O-O,Bxf3,Nxf3,c6,Bb2,g6,Ne5,Bg7,f4,Ne4,a4,Nbc3,Bxc3,Nxc3,Qc2,Ne4,b5,Bxe5,fxe5,Qxe5,bxc6,bxc6,Qxc6+,Ke7,Qb7+,Ke6,Qxf7+,Kd6,Rac1,Rac8,Rxc8,Rxc8,Qxh7,Nd2,Qxg6+,Kc5,Rc1+,Kb4,Rxc8', 'Qxe3+,Kh1,Qe1#', 'https://lichess.org/training/DZkK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZLmD', 'Rapid', 'olivier01', 1609, 'michelko', 1600, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,Nge7,Be3,a6,Be2,d5,Bf3,Ne5,O-O,Nxf3+,Qxf3,b5,a3,Bb7,e5,Nc6,Nce2,Nxe5,Qg3,Ng6,Bg5,Be7,Bxe7,Qxe7,Rfe1,O-O,Nf4,Nxf4,Qxf4,Qc5,c3,Rfe8,Nb3,Qc8,Rad1,Ra7,Qe3,Ra8,Nc5,Bc6,b4,a5,h3,h6,Qe5,axb4,axb4,f6,Qd6,Ra3,Rxe6,Rxe6,Qxe6+,Qxe6,Nxe6,Rxc3,Nd8,Rc4,Nxc6,Rxc6,Rxd5,Rc1+,Kh2,Rb1,Rxb5,Kf7,Kg3,Ke6,Kf3,Kd6,Ke3,Kc6,Rc5+,Kb6,Rc4,Kb5,Kd4', 'Rd1+,Kc3,Rc1+,Kd3,Rxc4', 'https://lichess.org/training/dZLmD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dzlwn', 'Blitz', 'mahsalem', 1575, 'JohnD_FIN', 1529, 'e4,e5,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Nf3,Nc6,Bc4,Nf6,Ng5,Be6,Bxe6,fxe6,Nf7+,Ke7,Nxh8,Nxe4,O-O,Nd4,Na3,Rd8,c3,Ne2+,Kh1', 'Nxf2+,Rxf2,Rd1+,Rf1,Rxf1#', 'https://lichess.org/training/dzlwn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dzmvl', 'Blitz', 'Ogygiaa', 1848, 'cervettomarcos', 1867, 'e4,e5,f4,exf4,Nf3,Nc6,d4,g5,h4,f6,Nxg5,fxg5,Qh5+,Ke7,hxg5,Nxd4,Na3,d5,c3,Ne6,Nb5,dxe4,b3,Bg7,Ba3+,c5,Bc4,b6,O-O,a6,Bxe6,Bxe6,Rad1,Qb8,Nd6,Bxc3,Nxe4,Qe5,Nxc3,Qxc3,Rfe1,f3,gxf3,Rf8,Bc1,Qxf3,Qh2,Qg4+,Kh1,Rf3', 'Qc7+,Kf8,Rd8#', 'https://lichess.org/training/Dzmvl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DznHp', 'Blitz', 'jk439', 1906, 'syam75', 1864, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,g6,Be3,Bg7,Qd2,Nf6,O-O-O,O-O,f3,Nxd4,Bxd4,a5,g4,Bd7,h4,a4,a3,Rb8,Bb5,Bxb5,Nxb5,Qd7,Qb4,Ra8,h5,Rfc8,hxg6,fxg6,e5,Nd5,Qe1,Qxb5,exd6,exd6,Bxg7,Kxg7,Qh4,Nf6,g5,Nh5,Qd4+,Kf7,Qxd6,Qxg5+,Kb1,Qf6,Qd5+,Kg7,Rhe1,Kh6,Qe4,Rc6,Rd7,Rac8,Re2,Ng3,Rh2+,Nh5,Rxb7,Qf5,Qe7,Rxc2,Qxh7+,Kg5,Qe7+,Nf6,Rg2+,Kh5', 'Qh7+,Nxh7,Rxh7#', 'https://lichess.org/training/DznHp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DzNpj', 'Blitz', 'schadupp', 1827, 'timoL', 1930, 'd4,Nf6,e3,d5,c3,c5,Bd3,Nc6,b3,e6,f4,Ne4,Nf3,f5,O-O,Be7,Bb2,O-O,c4,b6,a3,Bb7,Nbd2,a6,Ne5,cxd4,exd4,dxc4,Bxc4,Nxd4,Nxe4,Bxe4,Qxd4', 'Bc5,Qxc5,bxc5,Bxe6+,Kh8', 'https://lichess.org/training/DzNpj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZokI', 'Rapid', 'BudiAin', 1861, 'Jolle0', 1950, 'd4,d5,c4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,dxc4,Nc3,Bd7,Bf4,c6,e4,Qc8,Re1,Bh3,Ng5,Bxg2,Kxg2,h6,Nf3,Nbd7,Qd2,Nb6,Bxh6,Ng4,Bg5,Bf6,h3,Bxg5,Nxg5,Nf6,e5,Nfd5,Nxd5,Nxd5,Qe2,Qf5,h4,Kg7,g4,Qxg5,hxg5,Nf4+,Kf3,Nxe2,Kxe2,Rh8,Rh1,Rad8,Ke3,b5,Ke4,Rd5,Rxh8,Kxh8,f4,Kg7,f5,f6,fxg6,Kxg6,gxf6,exf6,exf6,Kxf6,Rf1+,Kg5,Rf5+,Kxg4', 'Rxd5,cxd5+,Kxd5', 'https://lichess.org/training/dZokI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DzOVQ', 'Blitz', 'sir99', 2006, 'Lamujen', 2225, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,d6,Nf3,Nc6,exd6,Qxd6,Nc3,Bg4,Be2,e6,O-O,Nxc3,bxc3,Be7,a4,O-O,Be3,Bf6,h3,Bh5,Rb1,b6,Bd3,Rac8,Be2,Na5,Bd2,Nc4,Rb4,Nxd2,Qxd2,Be7,Rc1,Qd5,Rb5,Bxf3,Rxd5,Bxd5,c4,Bc6,d5,exd5,cxd5,Bxa4,Rxc8,Rxc8,d6,Bf6,d7,Rd8,Bg4,h5,Bxh5,Rxd7,Qa2,Bb5,Kh2,Re7,Bf3,Be5+,g3,a6,Kg2,Bd6,Qc2,Bc5,Qf5,a5,Qc8+,Re8,Qc7,a4,Bd5,Re7,Qb8+,Be8,Qa8,g6,Bc6,Kf8,Bxe8,Rxe8,Qxa4,Re2,Qa8+,Kg7,Kf3,Rxf2+,Kg4', 'f5+,Kg5,Be7#', 'https://lichess.org/training/DzOVQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DzovY', 'Blitz', 'WCM Estefani2020', 1912, 'ardiat', 1920, 'Nf3,d5,g3,c6,Bg2,Nd7,d3,Qc7,Nbd2,e5,O-O,Bd6,e4,Ngf6,Re1,O-O,Nf1,b5,Bg5,Bb7,h4,h6,Bxf6,Nxf6,Qd2,Rae8,Rad1,a5,Ne3,d4,Nf5,Bc5,c3,Bc8,cxd4,exd4,N5xd4,Bg4,Rc1,Qb6,e5,Nd7,Qf4', 'Bxf3,Nxf3,Bxf2+', 'https://lichess.org/training/DzovY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Dzq6G', 'Classical', 'comm74ru', 1637, 'nizar_drivitsky', 1846, 'd4,f5,c4,e6,e4,fxe4,Nc3,Nf6,Bg5,Be7,f3,exf3,Nxf3,d5,Ne5,O-O,Qc2,Nbd7,O-O-O,c6,Bxf6,Bxf6,Bd3,h6', 'Bh7+,Kh8,Ng6+,Kxh7,Nxf8+', 'https://lichess.org/training/Dzq6G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZQ9Y', 'Rapid', 'WolfgangPlay', 1602, 'Den1ver', 1619, 'd4,Nf6,e3,g6,c4,Bg7,Nf3,d5,Nc3,Nc6,Ne5,Nxe5,dxe5,Ng4,f4,e6,cxd5,exd5,Qxd5,O-O,Bc4,Be6,Qxd8,Raxd8,Bxe6,fxe6,O-O,Rd3,Rf3,g5,h3,Nh6,Kf2,gxf4,exf4,Rxf3+,Kxf3,Bxe5,g3,Bd4,Ne2,Nf5,g4,Nh4+,Kg3,Bf6,g5,Nf5+,Kg4,Be7,Rb1,Rd8,b3,Rd1,Rb2,Re1,Kf3,Ba3,Rc2,Bxc1,Nxc1', 'Nd4+,Kf2,Nxc2', 'https://lichess.org/training/dZQ9Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DzqZ6', 'Rapid', 'bovilad', 1861, 'konstantinos22', 1836, 'Nf3,Nf6,g3,Nc6,Bg2,e5,d3,h6,O-O,d5,c3,Bd6,a3,O-O,b4,a6,Nbd2,Be6,Nb3,b6,Bb2,Re8,c4,dxc4,dxc4,Bxc4,Nfd2,Bb5,a4,Bxa4,Rxa4,Qd7,Qc1,Nd4,Bxa8', 'Nxe2+,Kg2,Nxc1', 'https://lichess.org/training/DzqZ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DzQZr', 'Blitz', 'Kalitendele', 1829, 'Simiouch', 1759, 'e4,d5,exd5,Qxd5,Nf3,Nf6,Be2,Bf5,c3,Nc6,d4,O-O-O,O-O,e6,c4,Qd7,Be3,Ng4,h3,h5,a3,Qd6,b4,Nxe3,fxe3,Qg3,Qe1,Bd6,Qxg3,Bxg3,b5,Ne7,Ng5,Rhf8,Nc3,f6,Nf3,g5,Nd2,g4,hxg4,hxg4,Nde4,Bxe4,Nxe4,Bh4,Bxg4,f5,Nc5,fxg4,Nxe6,Rxf1+,Rxf1,Rd6', 'Rf8+,Kd7,Nc5#', 'https://lichess.org/training/DzQZr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DZrBf', 'Rapid', 'hairyhobbo', 1820, 'StojanDoreski', 1741, 'Nf3,Nc6,d4,e6,c4,Nf6,Nc3,Be7,a3,O-O,e4,d6,Be2,h6,O-O,Nh7,Re1,f6,Nh4,e5,d5,Nd4,Bg4,Bxg4,Qxg4,Qc8,Qd1,Ng5,Be3,c5,Ng6,Re8,h4,Nh7,Qc1,f5,exf5,Nxf5,Nb5,a6,Nxe7+,Rxe7,Nc3,Nxe3,Rxe3,Rf7,Rg3,Kh8,Ne4,Qd7,Qe3,Raf8,Rc1,Nf6,Nxf6,Rxf6,Rc2,Qf5,Re2,Qf4,Qxf4,exf4,Rg4,R8f7,Re8+,Kh7,Rd8,h5,Rg5,g6,Kf1,Re7,Rb8,f3,g3,Kg7,g4,hxg4,Rxg4,Kh6,Rg5,Rf4,Rd8,Rf6,Kg1,Rf4,Rg8', 'Re1+,Kh2,Rxh4+,Kg3,Kxg5', 'https://lichess.org/training/DZrBf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZRIc', 'Rapid', 'tjamesiv', 1877, 'WhiteBirch', 1870, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Qc7,Nc3,Bb4,Bd2,Nf6,Ncb5,Bxd2+,Qxd2,Qe5,f3,a6,Qa5,axb5,Qxa8,Qxd4,Qxb8,Qe3+,Be2,O-O,Rd1,d5,e5,Nd7,Qc7,Nxe5,Qc3,Qg5,O-O,Nc4,Bxc4,bxc4,b3,b5,a4,Bd7,axb5,Bxb5,Qb4,Qe3+,Kh1,Bc6,bxc4,dxc4,Qxc4,Bd5,Rfe1', 'Qxe1+,Rxe1,Bxc4', 'https://lichess.org/training/dZRIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZRLN', 'Blitz', 'CurtGruvaeus', 2408, 'IM ich2', 2434, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb4+,Bd2,a5,Bg2,Ba6,Qa4,Bxd2+,Nbxd2,O-O,e4,d5,exd5,exd5,Ne5,c6,O-O,dxc4,Nxc6,Qd7,Ne7+,Qxe7,Bxa8,c3,bxc3,Bxf1,Rxf1,Rc8,c4,Qe2,Qd1,Qd3,Nf3,Qxc4,Ne5,Qb4,d5,Rd8,Nc6,Nxc6,Bxc6,Ne4,Qb3,Qxb3,axb3,Kf8,Rb1,Ke7', 'Re1,f5,f3,Kd6,fxe4', 'https://lichess.org/training/dZRLN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dzsGB', 'Rapid', 'FantasticMrFoxy', 1780, 'xointed', 1771, 'd4,d5,Bf4,Nf6,e3,Nc6,Nd2,Bg4,f3,Bf5,g4,Bg6,h4,h6,h5,Bh7,Nb3,e6,Bd3,Bd6,Ne2,Bxf4,exf4,a6,Bxh7,Nxh7,Qd2,f5,O-O-O,Qe7,c3,O-O-O,Nc5,Kb8,Rde1,fxg4,fxg4,Nf8,Kb1,g6,Nc1,Na5,N1b3,Nc4,Qd3,Qd6,Rhf1,gxh5,gxh5,Rg8,Nd2,Nd7,Rxe6', 'Nxc5,Rxd6,Nxd3,Rxd8+,Rxd8,Nxc4,dxc4', 'https://lichess.org/training/dzsGB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dzsSc', 'Rapid', 'plorru-chess', 1805, 'pineapplesomething2', 1852, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d6,h3,Be7,Nc3,Bg5,d4,Bf6,dxe5,Bxe5,Nxe5,dxe5,Qxd8+,Kxd8,Be3,Nf6,Rad1+,Nd7,f4,Ke7,fxe5,Nxe5,Bc5+,Ke6,Ne2,f6,Bd4,Nc4,b3,Nd6,Nf4+,Kf7,e5,Ne4,e6+,Bxe6,Rde1,f5,Nxe6,Kxe6,g4,Rhd8,gxf5+,Kd5,Bxg7,Rg8,c4+,Kc5,Rxe4,Rxg7+,Rg4,Rf7,Rg5,Raf8,Kg2,Kb4,Kg3,Ka3,Rf2,h6,Rh5,Rf6,Kf4,c5,Ke4,Re8+,Kd5', 'Rd6+,Kxc5,Re5#', 'https://lichess.org/training/dzsSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DZT8C', 'Blitz', 'EngrDestruction', 2130, 'tanmay8', 2003, 'c4,e6,Nc3,Nf6,d4,d5,Nf3,c5,cxd5,exd5,Bg5,cxd4,Nxd4,Be7,g3,Qb6,Qc2,Nc6,Nxc6,bxc6,Bg2,Rb8,Rb1,O-O,O-O,h6,Bf4,Rb7,Na4,Qb5,Rfc1,Bd7,Nc5,Bxc5,Qxc5,Qxe2,Rc2,Qa6,Rbc1,Qxa2,Qd6,Bf5,Rxc6,Rxb2,Ra6,Qb3,Bxh6,Ne4,Bxe4,Bxe4,Bg5,Qf3', 'Qxf8+,Kh7,Rh6+,gxh6,Qxh6+,Kg8,Rc8#', 'https://lichess.org/training/DZT8C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dztKl', 'Rapid', 'johan-guerrero', 1887, 'Xavijh29', 1957, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bf4,O-O,e3,b6,Be2,Bb7,cxd5,Nxd5,Bg3,Nd7,O-O,N7f6,Rc1,Rc8,Nxd5,Bxd5,Bd3,c5,Re1,Ne4,Bxe4,Bxe4,Nd2,Bb7,dxc5,Bxc5,Nb3,Bb4,Qxd8,Rfxd8,Red1,h6,h3,Kh7,Rxd8,Rxd8,Rc7,Rd1+,Kh2,Bd5,Rxf7,a5,Be5,Kg8,Rxg7+,Kf8,Ra7,Rf1,f3,Rf2,e4,Bc4,Kg3,Be1,Kg4', 'Rxg2+,Kh5,Rg5+,Kxh6,Rxe5', 'https://lichess.org/training/dztKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZUzj', 'Rapid', 'jp-chessfan', 1614, 'Toni2012', 1757, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,Nf6,cxd4,Bb4+,Bd2,d5,exd5,Nxd5,Bxd5,Qxd5,Bxb4,Nxb4,Nc3,Qd8,Qa4+,Nc6,d5,Qe7+,Ne2,O-O,dxc6,Re8,Nd4,bxc6,O-O,c5,Nf3,Bd7,Qa5,Qxe2,Rfe1,Qxb2,Qxc5,Bg4,Qc6,Qb8,Rab1,Bxf3,Qxf3,Rxe1+,Rxe1,Qd8,Rd1,Qe8,g3,Rd8,Qe2,h6,Qxe8+,Rxe8,Rd7,Rc8,Kg2,c5,Rxa7,c4,Re7,c3,Re1,Kh7,Rc1,Kg6,Kf3,c2,Ke2,Kf5,Kd2,Rd8+,Kxc2,Ra8,Kb3,Rb8+,Kc2,Kg4,Rb1,Ra8,Rb2,Kh3,Rb7', 'Rxa2+,Kd1,Rxf2', 'https://lichess.org/training/dZUzj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dzv2r', 'Blitz', 'Bakrin_Club_d_Bilen', 1879, 'Cls-21', 1739, 'e4,e5,Nf3,Bc5,Nxe5,Bxf2+,Kxf2,Nf6,Qf3,c6,Bc4,O-O,Rf1,d6,Nxf7,Qb6+,Qe3,Ng4+,Ke2,Nxe3', 'Nh6+,Kh8,Rxf8#', 'https://lichess.org/training/dzv2r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DZwle', 'Blitz', 'tomdecuigniere', 2499, 'CM Kmpk', 2458, 'c4,Nf6,Nc3,g6,g3,d5,cxd5,Nxd5,Bg2,Nb6,d3,Bg7,Be3,O-O,Qd2,e5,Bh6,Nc6,Nf3,Bg4,Bxg7,Kxg7,O-O,Re8,Rac1,Nd4,Qe3,Nxf3+,Bxf3,Bxf3,Qxf3,c6,b4,Nd5,b5,Nxc3,Rxc3,e4,dxe4,cxb5,Rfc1,Re7,e5,Rxe5,Rc7,Re7,Qxb7,Rb8,Rxe7,Rxb7,Rxb7,Qd2,Rcc7,Qxe2,Rxf7+,Kh6,h4,Kh5,Rbe7,Qxa2,Rxh7+,Kg4,Re4+,Kh3,Rhe7,Qb1+,Re1,Qf5,R7e3,Qd5,Kf1,Qc4+,Kg1,Qc6,Kf1,b4,Ke2,Qc2+,Kf3,Qf5+,Ke2,Qc2+,Kf3,Qc6+,Ke2,b3,Rxb3,Qe6+,Re3,Qc4+,Kf3', 'Qg4#', 'https://lichess.org/training/DZwle');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dzxgu', 'Blitz', 'policrates2000', 2033, 'omar2', 1910, 'd4,Nf6,c4,e5,Nf3,e4,Nfd2,Be7,Nc3,e3,fxe3,O-O,Nf3,d5,cxd5,Nxd5,g3,Bg4,Bg2,Bb4,Qb3,Nc6,a3,Bxc3+,bxc3,Rb8,c4,Na5,Qd3,Nf6,O-O,c5,Ne5,Bh5,Bb2,Qc7,Rf4,Nc6,Raf1,Nxe5,dxe5,Nd7,Rf5,Bg6,e4,Bxf5,exf5,Nxe5,Qc3,f6,Bd5+,Kh8,Rf4,Rbd8,Rh4,b6,e4,Qe7,Qe3,Nf7,Qf3,Ne5', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/dzxgu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZXoY', 'Rapid', 'Bantugador', 1871, 'mAtTdOPE', 1928, 'd4,d5,c4,c6,Nf3,Nf6,g3,Bf5,Bg2,e6,Nc3,dxc4,a4,Bb4,O-O,Nbd7,Bg5,h6,Bxf6,Nxf6,Ne5,O-O,Nxc4,Qc7,e4,Bxc3,exf5,Bb4,fxe6,fxe6,Qb3,a5,Rad1,Kh8,Ne5,Rfe8,Bh3,Nd5,Qf3,Nf6,g4,Rad8,g5,hxg5,Qg3,Bd6,Qxg5,Bxe5,dxe5,Nh7,Qh5,b5,axb5,cxb5,Rd6,Qc4,Qg6,Qh4,Bg2,Qg5,Qe4,a4,Rfd1,Rb8,R6d3,b4,Rh3,Qf5,Qh4,Kg8,Be4,Qg5+,Qg3,Qxg3+,Rxg3,Red8,Rd6,Rxd6,exd6,Rd8,Rd3,Nf6,Bc6,Nd5,Bxa4,Rxd6,Bb3,Kf7,f3,Kf6,Kf2,Ke5,Rd2,g5,Re2+,Kf6,Re4,Nf4,Rxb4', 'Nd3+,Ke2,Nxb4', 'https://lichess.org/training/dZXoY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZYb8', 'Blitz', 'Brandts', 1859, 'Kuba16', 1628, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Nf6,e5,Ng4,d4,d5,exd6,Bxd6,Nc3,O-O,O-O,Ne3,Bxe3,fxe3,Qd3,Re8,Rae1,Nc6,Rxe3,Rxe3,Qxe3,Bg4,Ne5,Nxe5,dxe5,Bb4,Rxf7,Kh8,h3,Bh5,Rf4,b6,e6,Bc5,Qxc5,bxc5,Nd5,Qg5,e7,c6', 'Rf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/dZYb8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('dZYqo', 'Classical', 'K0stasP', 1836, 'Gogester', 1860, 'd4,Nf6,Nf3,d6,g3,g6,Bg2,Bg7,c4,Nc6,Nc3,Nd7,e4,e5,d5,Nd4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/dZYqo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DzzTN', 'Classical', 'Azka_Sidqi', 1892, 'giggers', 1814, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nf6,Nc3,Bg7,e5,Ng8,Bc4,Bxe5,O-O,e6,Re1,Bg7,Ndb5,Bf8,Ne4,d5,Ng5,Bg7,Bxd5,Nf6,Bb3,Qxd1,Rxd1,Na6,Nd6+,Ke7,Ndxf7,Rf8,Nd6,Nc5,Nxc8+,Raxc8,Re1,Rc6,Be3,Nxb3,axb3,h6,Nf3,Nd5,Ne5,Bxe5,Bxh6,Rf5,g4,Bxh2+,Kxh2,Rxf2+,Kg3,Rcxc2,Rxa7,Rg2+,Kh4,Rc7,Rf1,Nf6,Bg5', 'Rxg4+,Kh3,Rxg5', 'https://lichess.org/training/DzzTN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('DzZU4', 'Rapid', 'dreypat', 1680, 'mxt', 1904, 'e4,e5,c4,Bc5,Nf3,d6,Nc3,Bg4,Qe2,Nc6,d3,Nd4,Qd2,Bxf3,h4,Nf6,Rh3,Bg4,Rg3,O-O,f3,Bh5,Nb5,Ne6,Qd1,c6,Nc3,Bd4,Bd2,Nf4,Qc1,Nd7,Bxf4,exf4,Qxf4,Be5,Qg5,Bxg3+,Qxg3,Re8,d4,Nf6,O-O-O,b5,e5,Nd7,exd6,b4,Na4,Qa5,b3,Qf5,Bd3,Qf6,c5,Re3,Bc4,Rae8,Qh3,Nb8,d7,Rd8,g4,Rxf3,Qg2,Rf2,Qe4,Bg6', 'Qe8+,Rxe8,dxe8=Q#', 'https://lichess.org/training/DzZU4');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 12;
-    }
-
-}
\ No newline at end of file
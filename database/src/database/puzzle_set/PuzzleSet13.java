@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet13 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e04Cb', 'Rapid', 'RAMF', 2008, 'angomo2', 1794, 'd4,d5,c4,e6,Nf3,Nf6,g3,Be7,Bg2,c6,O-O,Nbd7,Nbd2,Qc7,b3,e5,dxe5,Nxe5,Bb2,Bd6,Rc1,O-O,cxd5,Nxd5,Nc4,Nxc4,Rxc4,Qe7,Qd4,f6,e4,Nc7,Rd1,Nb5,Qd2,Be6,Rc2,Rad8,Qe3,Bc5,Qe2,Rxd1+,Qxd1,Rd8,Rd2,Rxd2,Qxd2,Qd6,Qxd6,Bxd6,Nd4,Nxd4,Bxd4,b6,f4,c5,e5,fxe5,fxe5,Bc7,Bc3,Kf7,Kf2,Bf5,Bd5+,Be6,Be4,h6,Ke3,g5,Bd3,Bd5,Bf5,Ke7,h4,gxh4,gxh4,Kf7,Kf4,Ke7,Bh7,Ke6', 'Bg8+,Kd7,Bxd5', 'https://lichess.org/training/e04Cb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E0eqH', 'Blitz', 'duealfieri', 1682, 'HorzeMan', 1642, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Be7,Ndf3,O-O,Bd3,b6,Ne2,h6,O-O,Bb7,f5,cxd4,cxd4,exf5,Bxf5,Re8,e6,fxe6,Bxe6+,Kh8,Nf4,Nf6,Ng6+,Kh7,Nxe7,Rxe7,Qd3+,Kh8,Re1,Ne4,Bf5,Na6,Nh4,Re8,Ng6+,Kg8,Qb3,Nd6,Be6+,Rxe6,Rxe6,Qd7,Re7,Qf5,Ne5,Rf8,Bxh6', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/E0eqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E0glz', 'Rapid', 'vynzy', 1663, 'harunercann', 1630, 'e3,e5,e4,Nf6,Qe2,b6,d3,Bb7,f3,Be7,Nc3,O-O,Bg5,h5,Bxf6,Bxf6,Nb5,Bc6,Nc3,a5,Nd5,Bg5,h4,Bh6,g4,hxg4,fxg4,Bf4,g5,Bb5,Nxf4,exf4,O-O-O,Nc6,Kb1,Nd4,Qd2,d5,Qxf4,Ne6,Qd2,Nd4,Qe3,c5,c3,Ne6,d4,Bxf1,Rxf1,cxd4,cxd4,dxe4,Ne2,Qd5,Rd1,Rac8,Nc3,Qf5,Nxe4,Rfd8,Rhf1,Qb5,a3,Qc4,Qg3', 'Qc2+,Ka1,Qxe4', 'https://lichess.org/training/E0glz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e0HIY', 'Blitz', 'carlos-burgos-picon', 1654, 'Arnau_Lana_Martin', 1643, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,d3,h6,h3,d6,O-O,Be6,Be3,Bb6,Bd5,O-O,Bxc6,bxc6,Bxb6,cxb6,b4,Qc7,a4,d5,b5,dxe4,dxe4,c5,Re1,Rfd8,Qe2,Rd7,Rad1,Rad8,Rxd7,Qxd7,Rd1,Qc7,Rxd8+,Qxd8,Nxe5,Qd4,Nc6,Qxc3,Nxa7,Qa5,Nc6,Qxa4,e5,Nd5,Qd3,Nf4', 'Ne7+,Kh8,Qd8+,Kh7,Qg8#', 'https://lichess.org/training/e0HIY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e0j3h', 'Rapid', 'checkmate98', 1836, 'neroya', 1846, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,Nf3,Bxf3,gxf3,Nc6,d3,Nd4,f4,Qe6,Be3,Nf5,Qd2,O-O-O,O-O-O,Nf6,Rhg1,Nxe3,fxe3,Nd5,Bg4,f5,Nxd5,Rxd5,Bh3,Qb6,e4,Rb5,Qc3', 'Qe3+,Qd2,Qxh3', 'https://lichess.org/training/e0j3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e0J6H', 'Classical', 'CONSTANTINE_888', 1844, 'Gorillla', 1798, 'd4,Nc6,Nf3,d5,Bg5,Bg4,h3,Bxf3,exf3,f6,Bh4,Nh6,g4,e6,Bb5,Bd6,Qe2,Qe7,Bxc6+,bxc6,Qa6,O-O,Qxc6,Bf4,O-O,Qf7,Nc3,Rae8,Rfe1,f5,g5,Qg6,Ne2,Bxg5,Bxg5,Qxg5+,Kh2,Qh4,Kg2,Re7,c3,f4,Nc1,Qf6,Nd3', 'Qg6+,Kh2,Qxd3', 'https://lichess.org/training/e0J6H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e0j9s', 'Rapid', 'thisisanoutrage', 1997, 'zaki13', 1954, 'e4,e5,f4,exf4,Bc4,Nc6,d4,g5,Nf3,d6,c3,Bg4,O-O,Nh6,Qb3,Bxf3,Rxf3,Qd7,Nd2,O-O-O,Bb5,a6,a4,axb5,axb5,Nb8,Ra8,d5,Qa4,c6,b6,dxe4', 'Rxb8+,Kxb8,Qa7+,Kc8,Qa8#', 'https://lichess.org/training/e0j9s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e0JvQ', 'Rapid', 'NiK-IgoR', 1731, 'roman484', 1829, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,Bd2,Qh5,Be2,e6,h3,Bd6,Be3,Nbd7,Kd2,Bxf3,Bxf3,Qa5,Kc1,Bb4,Bd2,O-O-O,Rb1,Nb6,a3,Bxa3,bxa3', 'Qxa3+,Rb2,Nc4', 'https://lichess.org/training/e0JvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E0k3T', 'Rapid', 'proshyan11', 1715, 'Benhmamou', 1651, 'c4,Nf6,Nc3,g6,d4,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,d5,Bg7,Qc2,O-O,Nf3,Bg4,Be2,Qa5,Bd2,b5,O-O,b4,cxb4,cxb4,Rab1,Na6,Bxa6,Qxa6,Qb3,Bxf3,Qxf3,Qxa2,Bxb4,Rfe8,Qa3,Qxa3,Bxa3,a5,Rb7,a4,Bxe7', 'a3,Bxa3,Rxa3', 'https://lichess.org/training/E0k3T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e0MvV', 'Classical', 'yrarty', 1880, 'brilliantrunner', 1902, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,Bc4,Bb4,a3,Bxc3+,bxc3,Nxe4,O-O,d5,Bb3,O-O,c4,Be6,cxd5,cxd5,Re1,f5,f3,Qb6+,Be3,d4,Bxe6+,Qxe6,fxe4,dxe3,exf5,Qxf5,Rxe3', 'Qf2+,Kh1,Qxe3', 'https://lichess.org/training/e0MvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E0NCD', 'Rapid', 'wanjiru1234', 1623, 'QuestoGuy', 1957, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,f3,dxc6,Qe2,Ne7,Be3,Bxe3,Qxe3,Qxb2,Qc3,Qc1+,Kf2,O-O', 'Nd2,Qxa1,Qxa1', 'https://lichess.org/training/E0NCD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E0Nh8', 'Rapid', 'bewareofthecow', 1673, 'fredyc', 1739, 'd4,Nf6,c4,d6,Nc3,Nbd7,Nf3,c5,e3,cxd4,exd4,b6,Be2,Bb7,O-O,g6,b3,Bg7,Bb2,O-O,Rc1,Ne4,Qd3,Nxc3,Bxc3,Rc8,d5,Nf6,Nd4,a6,h3,Qd7,Rfe1,e5,dxe6,fxe6,Bf3,Bxf3,Qxf3,e5,Ne2,Rf7,Ng3,Rcf8,Ne4,Nxe4,Qxe4,Rxf2,Qd5+,Kh8,Bxe5,Bxe5,Rxe5,Rxa2,Qd4,Kg8,Rd1,Rff2,Qd5+,Kg7,Qd4,Rxg2+,Kf1,Qf7+', 'Rf5+,Kg8,Rxf7', 'https://lichess.org/training/E0Nh8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e0oBO', 'Rapid', 'Anafshahmi', 1698, 'matte2093', 1791, 'e4,e5,Nf3,Nc6,d4,d6,Bb5,Nf6,Bg5,Bd7,dxe5,dxe5,Bxc6,Bxc6,Qxd8+,Kxd8,Nxe5,Be8,Nc3,Be7,O-O-O+,Bd6,Bxf6+,gxf6,Ng4,Bd7,Nxf6,Be6,e5,Ke7,Ncd5+,Bxd5,exd6+,Kxf6,Rxd5,Rhe8,dxc7,Rac8,Rhd1,Rxc7,Rd6+,Kg7,f4,Rce7,Kd2,Re2+,Kc1,Rc8,R1d2,Re1+,Rd1,Re2,R6d2,Rce8,Rxe2,Rxe2,Rd7,Re1+,Kd2,Rg1,Rxb7,Rxg2+,Kc1,Rxh2,Rxa7,Rf2,c4,Rxf4,b3,Rf1+,Kc2,Rf4,a4,Rf2+,Kc3,Rf3+,Kb4,h5,a5,h4,a6,h3,Rb7', 'h2,a7,h1=Q,a8=Q,Qe1+', 'https://lichess.org/training/e0oBO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e0Xiv', 'Rapid', 'fourchette63', 1660, 'order523', 1841, 'd4,d5,Bg5,h6,Bh4,c6,e3,Nd7,Bd3,Ngf6,c3,e6,Nd2,Be7,Ne2,O-O,O-O,Nh7,Bxe7,Qxe7,Qc2,Ndf6,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bd3,Qd6,h3,e5,f4,exd4,Nxd4,Re8,Rad1,c5,Nf5,Qb6,c4,Bd7,b3,Bc6,Nd6,Qc7,Bf5,Red8,Ne4,Nxe4,Bxe4,Bxe4,Qxe4,Rxd1,Rxd1,b6,Qd5,Rc8,g3,a5,Kg2,Re8,Kf3,Qe7,Qd3,Qb7+,Qd5,Qe7,Qd3,Qf6,h4,g5,Rg1,Qb2,Rg2', 'g4+,Kxg4,Qxg2', 'https://lichess.org/training/e0Xiv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e0zqk', 'Rapid', 'Felix_bn', 1955, 'animaze76', 1752, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd3,d5,Ne2,c5,O-O,b6,a3,Ba5,Bd2,Nc6,cxd5,exd5,dxc5,bxc5,Qa4,Bb7,Nf4,Ne4,Bxe4,dxe4,Rfd1,Ne5,Nxe4,Bxe4,Qxe4,Bc7,Bc3,Qe8,Nd5,f5,Nxc7,fxe4,Nxe8,Raxe8,Rd5,Nd3,f4,Rd8,Rg5,Rd7,Rb1,c4,Bd4,Nxf4,Rxg7+,Rxg7,Bxg7', 'Ne2+,Kh1,Kxg7', 'https://lichess.org/training/e0zqk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E11gu', 'Rapid', 'kuswanto', 1758, 'HahGetForked', 1779, 'd4,Nf6,c4,e6,Nc3,c5,Nf3,cxd4,Nxd4,Bb4,Bd2,d5', 'Qa4+,Nc6,Nxc6', 'https://lichess.org/training/E11gu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e11OE', 'Rapid', 'durobalic', 1800, 'fgchess45', 1686, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Nf6,a3,a6,Nc3,b5,Ba2,d6,h3,Qe7,Be3,Be6,Qd2,Bxa2,Nxa2,Qe6,Nc3,Be7,Rd1,O-O,Ne2,d5,Ng3,dxe4,dxe4,Rad8,Qe2,Qa2,c3,Na5,O-O,Qc4,Nxe5,Qxe2,Nxe2,Nxe4,b4,Nb7,Nc6,Rxd1', 'Nxe7+,Kh7,Rxd1', 'https://lichess.org/training/e11OE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e12UR', 'Blitz', 'kageyama01', 1644, 'nzi', 1650, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,Nc6,Nf3,d6,Bd3,dxe5,dxe5,f6,exf6,exf6,O-O,Be7,Nc3,Nxc3,bxc3,O-O,Qb3+,Kh8,Qc2,h6,Bg6,Bg4,Nh4,Bd6,Bf5,Bxf5,Qxf5,Kg8,Qg6,Ne5,Qe4,Qc7,Ng6,Nxg6,Qxg6,Bxh2+,Kh1,Bf4,Bxf4,Qxf4,Rfe1,Qxf2,Re7,Qh4+,Kg1,Qg5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/e12UR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e14DS', 'Blitz', 'Simo_Simppeli', 2211, 'GM MTurov', 2603, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,a5,g3,d6,Bg2,Nc6,O-O,e5,a3,Bxd2,Qxd2,a4,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Rd1+,Ke7,Nc3,c6,Ne4,Nxe4,Bxe4,Be6,Rac1,Rhd8,Rxd8,Rxd8,Bd3,f5,f3,c5,Kf2,Rd4,Ke3,b6,Rc3,h6,b3,axb3,Rxb3,Rd6,a4,Kd8,Ra3,Rd7,Rb3,Kc7,a5,Rd6,axb6+,Rxb6,Rxb6,Kxb6,Kd2,Ka5,Kc3,Ka4,Bc2+,Ka3,Bd3,f4,g4,Ka4,h4,Ka5,g5,hxg5,hxg5,Kb6,Bc2,Kc6,Kd3,Bf5+,Kc3,Bxc2,Kxc2,e4,fxe4', 'Kd6,Kb3,Ke5', 'https://lichess.org/training/e14DS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E19CA', 'Blitz', 'tabelatabela', 1708, 'reuvenb', 1845, 'e4,e6,d4,d5,e5,c5,f4,Nc6,Nf3,Qb6,Be2,cxd4,Bd3,f6,O-O,Bd7,a3,a5,Kh1,Be7,Nbd2,a4,b4,axb3,Nxb3,Nh6,exf6,Bxf6,Ne5,Bxe5,fxe5,O-O-O,Bxh6,gxh6,Qh5,Be8,Qxh6,Nxe5,Qg7,Nxd3,Qxh8,Bg6,Qxd4,Qxd4,Nxd4,Nc5,Rae1,Kd7,h4,Ra8,g4,Be4+,Kh2,Rxa3,Rf7+,Ke8,Rc7,Nd7,Nxe6,Ne5,Ng7+,Kd8,Ne6+,Ke8,Ng7+,Kf8,Rf1+,Kg8,Ne6', 'Nxg4+,Kg1,Rg3#', 'https://lichess.org/training/E19CA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E19Sm', 'Rapid', 'tarantola', 1680, 'Your_Grandfather', 1624, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Be7,Be2,O-O,O-O,d6,a3,Be6,Nd5,Qd7,Nxe7+,Qxe7,Bg5,h6,Bh4,g5,Bg3,Nxe4,Bd3,Nxg3,fxg3,Kg7,c3,d5,Bc2,b6,Qd3,Rh8,Rf3,e4,Rxf7+,Bxf7,Qb5,Na5,Nd4,Qc5,Qd7,Rhd8,Qf5,Rf8,Kh1,Qc4,Rf1,Bg6', 'Ne6+,Kh7,Nxf8+,Rxf8,Qxf8', 'https://lichess.org/training/E19Sm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E1b1P', 'Blitz', 'Elkabitenyo', 1981, 'Alexrich71', 1971, 'e4,c6,d4,d5,Nd2,Nf6,Ngf3,dxe4,Nxe4,Nxe4,Bd3,Nf6,O-O,e6,c3,Be7,Qe2,Nbd7,Bf4,Nd5,Bg3,g5,Ne5,f6', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/E1b1P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e1Gqf', 'Rapid', 'leonardo271', 2328, 'AryehM', 2313, 'e4,g6,d4,Bg7,Nc3,d6,Be2,Nf6,h4,c5,d5,h5,Nh3,O-O,Ng5,e6,dxe6,fxe6,Be3,Nc6,Qd2,b6,f3,d5,Bb5,Nd4,e5,Nd7,Bxd7,Qxd7,Bxd4,cxd4,Qxd4,Rf5,f4,Bf8,g3,Bc5,Qd3,a5,a4,Ba6,Nb5,Rc8,c3,Kg7,Ke2,Be7,Rhd1,Rc5,c4,Bxg5,hxg5,Rf7,b3,Bxb5,axb5,h4,Rac1,hxg3,Qxg3,Qc8,Rh1,Rf8,Rh6,Rh8,Qh3,dxc4,Rxh8,Qxh8,Qxh8+,Kxh8,bxc4,Kg7,Kd3,Kf7,Rh1,Kg7,Kd4,Rc7,Ra1,Kf7,Ra4,Ke7,c5,Rxc5,Rxa5', 'Rd5+,Kc3,bxa5', 'https://lichess.org/training/e1Gqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e1I4K', 'Rapid', 'Das2018', 1620, 'Papa-Gega', 1622, 'e4,e5,Nf3,Nc6,b3,Nf6,Bb2,Bd6,Bc4,O-O,Qe2,h6,O-O,Re8,d4,exd4,Nxd4,Nxd4,Bxd4,Rxe4', 'Bxf6,Rxe2,Bxd8', 'https://lichess.org/training/e1I4K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E1kVL', 'Blitz', 'annaly1979', 2386, 'FM Ryan-Rhys', 2487, 'e4,c5,d4,cxd4,Nf3,e5,c3,d5,Nxe5,dxe4,cxd4,Nf6,Bc4,Bb4+,Nc3,O-O,O-O,Bf5,Bg5,h6,Bh4,Nc6,Nxc6,bxc6,Qb3,Rb8,Rad1,Bd6,Qa4,Bxh2+,Kh1,g5,Bg3,Bxg3,fxg3,Bg6,Qxc6,Rb6,Qc5,Ng4,Nd5,Rd6,Rde1,Kg7,b3,f5,Nc7,Rff6,d5,Bf7,Nb5,Rb6,Nd4,Bg6,Ne6+,Rbxe6,dxe6,Qe8,Qd4,Bh7,Be2', 'Qh5+,Kg1,Qh2#', 'https://lichess.org/training/E1kVL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E1Mts', 'Rapid', 'Bormenkov', 1849, 'PARAIBAJOAO', 1850, 'd4,b6,c4,Bb7,Nc3,e6,e4,Bb4,Bd3,f5,Qf3,Bxc3+,bxc3,Nf6,Bg5', 'fxe4,Bxe4,Bxe4', 'https://lichess.org/training/E1Mts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E1mYp', 'Rapid', 'PacMan1', 1775, 'x0404', 1849, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Qc7,Nc3,e5,Qa4,Be7,Nd5,Qd8,Bd2,a5,Bb5,Nf6,Nxe7,Qxe7,Bb4', 'Qxb4+,Qxb4,axb4', 'https://lichess.org/training/E1mYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E1nzJ', 'Blitz', 'VSU67', 2125, 'FM kingnb', 2495, 'd4,d6,c4,Nf6,Nc3,g6,e4,Bg7,f4,O-O,Nf3,c5,d5,b5,cxb5,a6,b6,Qxb6,a4,a5,Bb5,Ba6,Qb3,Rc8,Qc4,Bxb5,axb5,Nbd7,O-O,Qb7,Na4,Nb6,Nxb6,Qxb6,e5,Ne8,e6,fxe6,dxe6,Nc7,Ng5,Qxb5,Qe4,Rf8,f5,Qb4,Qc2,Rxf5,Rxf5,gxf5,Be3,Rf8,Rf1,Qxb2,Qd3,Bd4,Nf3,Nxe6,Nxd4,Nxd4,Bh6,Qe2', 'Qg3+,Kf7,Qg7+,Ke8,Qxf8+', 'https://lichess.org/training/E1nzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E1OMe', 'Bullet', 'GM chessbrahs', 2692, 'GM DrDrunkenstein', 2856, 'Nf3,Nf6,d4,c5,g3,cxd4,Bg2,e5,O-O,Nc6,c3,dxc3,Nxc3,d6,Bg5,Be7,Rc1,O-O,b4,Be6,b5,Na5,Nd2,Rc8,Bxf6,Bxf6,Nde4,Be7,Qd3,d5,Nxd5,Rxc1,Nxe7+,Qxe7,Rxc1,Bxa2,Ra1,Bc4,Qe3,b6,h4,Bxb5,h5,h6,Nc3,Bc6,Rxa5,Bxg2,Rxe5,Qb7,f3,Bh3,g4,Bxg4,fxg4,Qc7,Nd5,Qd7,Qe4,a5,Ne7+,Kh8,Qd5,Qxg4+,Kf2,Qf4+,Kg2,a4,Rf5,Qg4+,Kf2', 'Qh4+,Kf1,Qxe7', 'https://lichess.org/training/E1OMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E1T6e', 'Rapid', 'bug1732', 2016, 'Nonny2k20', 2032, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,a4,d6,Nc3,Bg4,h3,Bh5,Be3,Nd4,Bxd4,exd4,Nd5,c5,Nf4,Kh8,Nxh5,Nxh5,Nd2,Nf4,Qf3,Bg5,Rfe1,Nxg2,Qxg2,Bxd2,Re2,Bh6,Rae1,f5,exf5,Qf6,Be6,Bf4,b3,Be5,Qxb7,g6,f4,Bxf4,fxg6,hxg6,Bd5,Qh4,Qxa8,Rxa8,Bxa8,Be3+,Kh1,g5,Rf1,g4,Rg2,g3,Rf8+,Kg7,Rf3', 'Qxh3+,Rh2,g2#', 'https://lichess.org/training/E1T6e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e1Vl8', 'Blitz', 'OutsidePawn', 2121, 'kurzeme', 2121, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nd7,Bc4,e6,Qe2,Ngf6,Ne5,Bg8,Bd2,Be7,O-O-O,Qc7,f4,O-O-O,Rhe1,Nxe5,fxe5,Nd5,Ne4,Bh7,Rf1,Bxe4,Qxe4,Rhf8,Qh7,Bg5,Bxg5,hxg5,Qxg7,Qe7,Bxd5,Rxd5,Rf6,c5,Qxg5,cxd4,h6,Qc7,Qg7,Rdd8,Rxd4,Qxe5,Rc4+,Kb8,Rf1,Qe2,Rcf4,Rg8,Qf6', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/e1Vl8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e1VXf', 'Rapid', 'SEL2525', 2005, 'Tunisia-Sousse2016', 1925, 'd4,c6,c4,Nf6,Nc3,g6,Bg5,Bg7,e3,d5,Nf3,O-O,h3,Nbd7,Be2,Nb6,c5,Nbd7,O-O,Re8,b4,e5,dxe5,Nxe5,Nd4,Bd7,Qb3,Qc8,Bf4,Ne4,Nxe4,dxe4,Rfd1,Be6,Qc2,Bd5,Rab1,h6,a4,g5,Bh2,Nd3,Bg4,Qd8,b5,Bxd4,exd4,Qf6,Bd7,Re7,bxc6,bxc6,Bg4,Qxd4,Bd6,Ree8,Rb7,Be6,Bxe6,Rxe6,Rdb1,Rf6,Bg3,e3,fxe3,Qxe3+,Kh2,Nxc5,Re1,Qd4,Rbe7,Re6,R7xe6,Nxe6,Qxc6,Rd8,Kh1,Qd2,Qa6,Qd4,Bf2,Qxf2,Rf1,Qb6,Qe2,Nf4,Qg4,Qe6,Rxf4,Qxg4,Rxg4,f5,Rb4,Rd7,Kg1,Kg7,Kf2,Kg6,Rb2,Kf6,Ke3,f4+,Ke4,Re7+,Kd5,Re5+,Kc6,Kf5,Rb5,Rxb5,axb5,g4,Kb7,f3', 'hxg4+,Kf4,gxf3', 'https://lichess.org/training/e1VXf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e1w8I', 'Rapid', 'Wolf7077', 1784, 'Lallerz', 1708, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,b5,Nc3,bxc4,Bxc4,Nf6,O-O,Bb4,Qf3,Bb7,Re1,O-O,Bd3,Qb6,Be3,d5,exd5,Bxc3,Nb5,Bxd5,Qh3,Qa5,Nxc3,Nc6,Bg5,Ne4,Nxe4,Bxe4,Bxe4,f5,Bxc6,Rac8,Bd7,Rc2,Qb3,Qc5,Rxe6', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/e1w8I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E1yxe', 'Blitz', 'AgronomKZ', 2224, 'theundertaken', 2167, 'Nf3,Nf6,c4,d6,d4,Nbd7,Nc3,e5,dxe5,dxe5,g3,Bc5,Bg2,O-O,O-O,a5,b3,e4,Nd4,Re8,e3,Ne5,Nxe4,Nxe4,Bxe4,Bh3,Re1,Nxc4,Bxb7,Ne5,Bb2,Rb8,Bg2,Bxg2,Kxg2,Qd5+,Nf3,Nd3,Re2,Rbd8,Bd4,Bxd4,exd4,Nb4,a3,Nc6,Rd2,Qe4,Kg1,h6,Rc1,Rd6,Rc5,Rf6,Ne5,Nxe5,dxe5,Rxe5,Rxc7,g6,Rd8+,Kg7,Rcc8,Rfe6,Rg8+,Kf6,Qd8+,Kf5,Rc1,Qf3,Qd2,Re2,Qd4', 'Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/E1yxe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e205t', 'Rapid', 'Mikhail_ynwa', 1711, 'aca021', 1718, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,gxf3,dxe5,Qxd8+,Kxd8,Nc3,c6,f4,Nd7,Bh3,Bd6,Bxd7,Kxd7,f5,f6,Be3,b6,O-O-O,Rd8,Rhg1,g6,fxg6,hxg6,f4,Ne7,fxe5,fxe5,Rg2,Ke8,Bg5,Bc7,Rxd8+,Kxd8,Bxe7+,Kxe7,Rxg6,Rxh2,Rg7+,Kd8,b3,a5,Kb2,Bd6,Na4,b5,Nb6,Bc5,Nd7,Bd4+,Kc1,Re2,Nf6,Rf2,Rd7+,Kc8,Rd6,Kb7,a4,Bc5,Rd7+,Kb6,axb5,Kxb5,c4+,Kb6,Ne8,Bb4,Nd6,Rd2', 'Nc8+,Kc5,Rxd2', 'https://lichess.org/training/e205t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e24fM', 'Rapid', 'Gobustan', 1852, 'GrafAlex', 1942, 'e4,e6,d4,d5,Nc3,Nf6,exd5,exd5,Nf3,c6,Bd3,Bg4,h3,Bh5,O-O,Be7,Bf4,O-O,g4,Bg6,Re1,Bxd3,cxd3,Bd6,Bxd6,Qxd6,Qb3,b5,Ne2,Nbd7,Ng3,Rfe8,g5,Rxe1+,Rxe1,Ne8,Nf5,Qc7,Qc3,Nd6,Ne7+,Kf8,Nxd5,Qb7,Ne7,Re8,Nxc6,Rxe1+,Nxe1,Nf5,Qb4+,Ke8,d5,Nb6,Qe4+,Ne7,d6,Qxc6', 'Qxe7#', 'https://lichess.org/training/e24fM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E24vG', 'Rapid', 'JPCoimbra', 1771, 'SchizoidMan17KC', 1688, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bg6,Bxg6,hxg6,f4,e6,Be3,Ne7,Nd2,Nf5,Bf2,Nd7,c4,c5,cxd5,exd5,dxc5,Bxc5,Bxc5,Nxc5,Nb3,Nxb3,Qxb3,Qa5+,Qc3,Qxc3+,bxc3,O-O-O,Rb1,Rh7,Ke2,d4,cxd4,Nxd4+,Ke3,Nf5+,Ke2,Ng3+,hxg3,Rxh1,Rc1+,Kb8,Kf2,Rhh8,Rc2,b6,Ne2,Rc8,Rd2,Rhd8,Rb2,Kb7,Kf3,Re8,Nd4,Rc3+,Kg4,Rd8,Ne2,Ra3,Nc1,Rc8,Nb3,a5,Nd4,Rcc3,Ne2,Re3,Kh4,Kc6,g4,Kc5,Kg5,Kd5,Rd2+,Ke6,Nc1,f6+,exf6,gxf6+,Kxg6,Rg3,f5+,Ke5,Kh5,b5,Nb3,a4,Nd4,Rgd3,Nf3+,Kf4,Rb2,Rd5,Kh4,Rd8,Rb4+,Ke3,Rb2,Rd5,Kg3,Kd3,Rd2+,Kc4,Rc2+,Kb4,Rb2+,Ka5,Kh4,b4,Nd2,Rc3,Ne4,Rc4,Nxf6,Rd6,Nh5,a3,Rf2,Rd8,f6,Rf8,Kg5,Rc5+,Kg6,Rc7,Ng3,Ka4,Rf4,Kb5,Ne4,Rc6,Kg7,Rcc8,f7,Kc6,Ng5,b3,Rc4+,Kd7,Rxc8,Kxc8,Kxf8,bxa2,Ke7,a1=Q,f8=Q+,Kb7,Qf3+,Kb6,Ne4,Qe5+,Kf7,Qd5+,Kg6,Qe6+,Kh5,Qe8+,Kh4,Qh8+,Kg3,Qe5+,Kf2,Qd4+,Kf1,Qc4+,Kg1,Qd4+,Kh2,Qe5+,Kh1,Qh8+,Qh3', 'Qxh3+,gxh3,a2', 'https://lichess.org/training/E24vG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E26xi', 'Blitz', 'FM ajedrez11', 2386, 'WIM rodionolya', 2143, 'b3,d5,Bb2,c6,e3,Nf6,Nf3,Nbd7,d4,e6,Be2,Bd6,O-O,Qe7,c4,O-O,Qc1,Rd8,Ba3,h6,Bxd6,Qxd6,Qa3,Qxa3,Nxa3,a6,Nb1,Re8,Nbd2,e5,dxe5,Nxe5,Nxe5,Rxe5,Nf3,Re8,Rfd1,Bg4,cxd5,Nxd5,h3,Bh5,Rac1,Rad8,Nd4,Bxe2,Nxe2,Nb4,a3,Nd3,Rb1,f5,Rd2,Ne5,Rbd1,Rxd2,Rxd2,Re7,Nd4,g6,b4,Kf7,Rc2,Rd7,g3,Kf6,h4,g5,hxg5+,hxg5,Kg2,f4,gxf4,gxf4,exf4,Nd3,Ne2,Rg7+,Ng3', 'Ne1+,Kf1,Nxc2', 'https://lichess.org/training/E26xi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E28CM', 'Classical', 'AIdanbestieaMin', 1869, 'andiamoafancularci', 2191, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,Bg5,Bb4,a3,Bxc3+,bxc3,d5,exd5,cxd5,c4,d4,Qf3,Rb8,c5,Qd5,Bxf6,Qxf3,gxf3,gxf6,a4,Rg8,Bb5+,Bd7', 'c6,Bxc6,Bxc6+', 'https://lichess.org/training/E28CM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E2D5B', 'Rapid', 'asmamiga', 1709, 'Sbu_mag', 1685, 'b3,g6,Bb2,f6,g3,Bg7,Bg2,e5,d3,Ne7,Nd2,O-O,Ngf3,d6,O-O,Nbc6,Nc4,d5,Ncd2,d4,Qe1,Bh6,Ba3,Bxd2,Qxd2,Bg4,Bxe7,Nxe7,Ne1,Nc6,e3,Bd7,exd4,exd4,Nf3,Bg4,Ne1,Ne5,Bxb7,Rb8,Bg2,c5,c3,a5,cxd4,Qxd4,h3,Qxa1,hxg4,Nxg4,Nc2,Qxa2,Qc3,Qxb3', 'Qxb3+,Rxb3,Bd5+,Kg7,Bxb3', 'https://lichess.org/training/E2D5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e2E8V', 'Rapid', 'ger456', 1750, 'hunter90', 1853, 'e4,c5,f4,g6,Nf3,d6,Bc4,Bg7,O-O,Nf6,e5,dxe5,Nxe5,O-O,c3,Nbd7,d4,cxd4,cxd4,Nb6,Bb3,Bf5,Nc3,Nfd5,Qf3,Nf6,Qxb7,Qxd4+,Kh1,Ng4,Nxg4,Bxg4,Qxe7,Rae8,Bxf7+,Rxf7,Qxe8+,Bf8,Qe3,Qd6,Bd2,Re7,Qf2,Nc4,Rad1,Bxd1,Rxd1,Nxb2,Re1', 'Nd3,Qg1,Nxe1', 'https://lichess.org/training/e2E8V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E2gi1', 'Rapid', 'viktormo', 1829, 'Maxim-Glushko', 1750, 'd4,d5,c4,c6,Nc3,f5,e3,Nf6,cxd5,cxd5,Bd3,e6,Nge2,Nc6,a3,a6,O-O,b5,Nf4,Bd6,Nh5,O-O,Nxf6+,Qxf6,Bd2,Qh4,g3,Qh3,Re1,Bb7,Bf1,Qh6,e4,f4,e5,Bxe5,dxe5,d4,Na2,Qg6,Bg2,fxg3,hxg3,Qf5,Bf4,g5,Be4,Qh3,Bxg5,Rxf2,Kxf2,Rf8+,Bf4,Nxe5,Bxb7,Ng4+,Ke2,Qh2+,Bg2', 'Qxg2+,Kd3,Nf2+', 'https://lichess.org/training/E2gi1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e2HhF', 'Rapid', 'Dreamer_0x01', 1704, 'packerraider', 1704, 'e4,e5,Nf3,Nc6,c3,d5,Bb5,a6,Bxc6+,bxc6,Nxe5,Qd6,d4,Nf6,exd5,cxd5,f3,Be7,Bg5,O-O,Bf4,Qb6,Qc2,Nh5,Be3,g6,Nd2,Bf5,Qc1,Bh4+,g3,Nxg3,hxg3,Bxg3+,Kf1,Qf6,f4,Bd3+,Kg2,Bxf4,Bxf4,Qxf4,Nxd3,Qg4+,Kf2,Qf5+,Ke2,Rfe8+,Ne5,Qg4+,Nf3,f6,Rg1,Qe4+,Qe3,Qc2+,Qd2,Qe4+,Kd1,fxe5,Nxe5,Rf8,Qg2', 'Qxg2,Rxg2,Rf1+,Kc2,Rxa1', 'https://lichess.org/training/e2HhF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E2iud', 'Blitz', 'jOnAlDtOLenTinO', 1516, 'ambia', 1507, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Nc6,Nf3,Bd7,O-O,O-O-O,b3,h6,Bc4,Qg6,Bd3,Qh5,Be2,g5,Nd4,g4,Nxc6,bxc6,Ba6+,Kb8,Bb2,f6,d4,e6,Qd3,Qa5,Na4,c5,Bc3,c4,Qxc4,Qd5,Qxd5,exd5,Nc5,Bxc5,dxc5,Ne7,Rfe1,Nc6,b4,d4,Bd2,h5,b5,Ne5,c6,Bc8,Rab1,Nc4,Bb4,Nb6,Bc5,Bxa6,bxa6,d3,cxd3,Rxd3,a4,Rc3,a5,Rxc5,axb6,cxb6,Re7,Rc8,Rd1,Rc7', 'Rd8+,Rc8,Rb7+,Ka8,Rxc8#', 'https://lichess.org/training/E2iud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e2M7A', 'Rapid', 'alpagu25', 1980, 'MarcoBenghiat', 1981, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Bd6,h3,O-O,c3,Bf5,Bg5,Nbd7,Nbd2,c6,Nh4,Be6,g3,h6,Be3,c5,Ndf3,Qb6,Qc2,Ne4,g4,Rac8,dxc5,Bxc5,Nd4,Ndf6,Nhf3,Ng5,Nxg5,hxg5,Nxe6,Bxe3,Nxf8,Bxf2+,Kf1,Rxf8,Rb1,Ne4,Kg2,Qd6,Qd3,Bh4,Qf3,f5,gxf5,Rxf5,Qxf5', 'Qg3+,Kf1,Nd2#', 'https://lichess.org/training/e2M7A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e2oDZ', 'Rapid', 'kasparov2ba', 1789, 'mcjh', 1792, 'd4,Nf6,c4,d6,e3,g6,h3,Bg7,Nf3,Nc6,a3,O-O,Bd3,Nd7,Nc3,e5,d5,Ne7,e4,Nc5,Bc2,f5,exf5,Nxf5,Bxf5,Bxf5,O-O,Bd3,Re1,Bxc4,Nd2,Bd3,Nce4,Bxe4,Nxe4,Nxe4,Rxe4,b6,b4,h6,Bb2,g5,Rb1,Qf6,f3,Qg6,Kh1,Rf4,Qe1,Rxe4,fxe4,Rf8,Bc1,h5,Rb3,g4,hxg4,hxg4,Rg3,Bh6,Bxh6,Qxh6+,Kg1,Qh4,Re3,Qxe1+,Rxe1,Kg7,Re3,Kg6,Rc3,Rf7,b5,Kg5,Re3,Rf4,a4,Kh4', 'g3+,Kg5,gxf4+', 'https://lichess.org/training/e2oDZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E2qpB', 'Classical', 'alvan', 1770, 'Greybeard23', 1613, 'e4,c5,Nf3,Nc6,Nc3,g6,Bb5,Nd4,O-O,Nxb5,Nxb5,d6,b3,Bg7,Nc3,Nf6,Re1,Bg4,Re3,O-O,h3,Bd7,d4,cxd4,Nxd4,Rc8,Bb2,e5,Ndb5,Bxb5,Nxb5,Qb6,Nxd6,Rfd8,Bxe5,Rxd6,Bxd6,Ne8,e5,Nxd6,Qxd6,Qxd6,exd6,Bxa1,c4,Rd8,Rd3,Rd7,c5,Be5,b4,f5,g3,Kf7,f4,Bb2,Rd2,Ba3,Rd4,a5,Rc4,Bxb4,Kf2,b6', 'c6,Bxd6,cxd7', 'https://lichess.org/training/E2qpB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e2qRA', 'Rapid', 'anavercadav', 1670, 'Arxangel200', 1802, 'Nf3,Nc6,e4,e5,d4,Nf6,dxe5,Nxe4,Qd5,Nc5,Ng5,Qe7,Bc4,Nxe5,Bf4,Nxc4+,Kf1,Ne5,Qxe5,Qxe5,Bxe5,f6,Bxc7,fxg5,Nc3,d6,Ba5,b6,Bb4,Ba6+,Ke1,O-O-O,a4,Re8+,Kd2,Ne4+,Nxe4,Rxe4,Bc3,d5,a5,Re2+,Kd1,Rxf2,axb6,Be2+,Ke1,Bc5,bxa7,Bxa7', 'Rxa7,Rxg2,Ra8+,Kb7,Rxh8', 'https://lichess.org/training/e2qRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e2R6i', 'Classical', 'net_knight', 1632, 'mwhenson', 1604, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,O-O,O-O,d4,d6,d5,Na5,Be2,b6,b4,Nb7,a3,Bd7,Ba6,Rb8,Nb5,Nxe4,Nxa7,Qe8,Nb5', 'Bxb5,Bxb5,Qxb5', 'https://lichess.org/training/e2R6i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e2sgo', 'Rapid', 'mamadmeshk', 2282, 'white_slonik', 2218, 'g3,Nf6,Bg2,d5,d4,Bf5,c4,e6,Nc3,c5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg6,Be3,cxd4,cxd4,Bb4+,Kf1,O-O,Ne2,Nc6,Rb1,a5,Qa4,Qc7,f4,Bh5,Kf2,Bxe2,Kxe2,Rad8,Rhd1,Rd7,a3,Bc3,Rbc1,Bb2,Rc2,Bxd4,Bxd4,Rxd4,Rxc6,Rxa4,Rxc7,Rxa3,Rxb7,Ra2+,Kf3,Rc8,Rd3,h5,h4,Rcc2,Bh3,Rf2+,Ke3,Rfe2+,Kf3,Rf2+,Ke3,Rfe2+,Kd4,Ra4+,Kc5,Rexe4,Rd8+,Kh7,Rxf7,Rac4+,Kb6,Rb4+,Kc6,Rec4+,Kd6,Rd4+,Kc7', 'Rbc4+,Kb7,Rxd8', 'https://lichess.org/training/e2sgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E2SXm', 'Rapid', 'JUSTMOVE34', 1703, 'jamal14', 1706, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,c5,Nf5,Bxf5,exf5,O-O,O-O,Re8,Nd5,Nxd5,Qxd5,Nc6,Qxf7+,Kh8,Be3,Ne5,Qd5,Nxc4,Qxc4,Bf6,c3,Qd7,Rad1,Rad8,Bxc5,Qxf5,Rxd6,b6,Rxd8,Rxd8,Be3,b5,Qc7,a6,Qf4,Qc2,Qc7,Qxb2,Bc1,Qxa2,Be3,Qe6,Ra1,Rc8,Qb6,Qxb6,Bxb6,Rxc3,Rf1,Rc6,Ba5,Bc3', 'Rc1,Bxa5,Rxc6', 'https://lichess.org/training/E2SXm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e2TFx', 'Blitz', 'Roade', 2158, 'BimBamU2', 2161, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,e5,Bg4,h3,Bxf3,Qxf3,Bg7,e6,f5,O-O,Qd5,Qe2,O-O-O,Re1,Nh6,d3,Rhf8,Nc3,Bxc3,bxc3,f4,f3,g5,Rb1,Nf5,Ba3,Ne3,d4,Qxe6,Bxc5,b6,Qa6+,Kb8,Bxb6,axb6,Rxb6+,Kc7,Qa5,Kd7,d5,Qxd5,Qa3,Qd6,Qa4,Qc5,Rb7+,Ke8,Kh2,Kf7,Qe4,Rh8,Reb1,Rd2,Kh1,Rxg2,Re1,Nf5,Kxg2,Nh4+,Kh2', 'Qf2+,Kh1,Qg2#', 'https://lichess.org/training/e2TFx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e2w0k', 'Blitz', 'CM JorgeTobar01', 2227, 'MGSaenz', 1718, 'd4,f5,Bg5,Nf6,Bxf6,exf6,e3,c6,c4,d5,Nc3,Be6,Qb3,Qc7,cxd5,cxd5,Nxd5', 'Qa5+,Qc3,Qxd5', 'https://lichess.org/training/e2w0k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e2WM6', 'Rapid', 'Rodrig8888', 1757, 'chalderanli', 1805, 'd4,e6,Bf4,b6,e3,Bb7,Nf3,g6,c3,Bg7,Nbd2,Ne7,Bd3,O-O,h4,Nf5,h5,Nc6,g4,Nh6,hxg6,Nxg4,gxh7+,Kh8,Nc4,d6,Nh2,Nxh2,Rxh2,e5,Bh6,Bxh6,Rxh6,Qg5,Rh1,Nxd4,cxd4,Bxh1,dxe5,Qg1+,Kd2,Qxf2+,Kc3,Bd5,Qg4,dxe5,Rg1,Qf6,Kc2,b5,Nd2,c5,b3,c4,bxc4,bxc4,Bxc4,Rac8,Kd3,e4+,Ke2,Bxc4+,Nxc4,Rxc4', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/e2WM6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e2ZP2', 'Classical', 'ewetgenclikk', 1956, 'GoldenAngel', 1960, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,c3,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Bc2,c5,Be3,cxd4,Bxd4,Be7,Nf3,O-O,O-O,Bd7,a4,Qc7,Be5,Qc6,Bd3,Rad8,Qc2,h6,Rfd1,Ng4,Bh7+,Kh8,Be4,Qb6,a5,Qb5,Bg3,Bc6,Nd4,Qa6,b4,Bxe4,Qxe4,f5,Qxe6,Rxd4,Qxa6', 'Rxd1+,Rxd1,bxa6', 'https://lichess.org/training/e2ZP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e393n', 'Rapid', 'algeria64', 2011, 'sensible_9', 1900, 'e4,c5,Nc3,Nc6,f4,e6,Bc4,a6,a4,Nge7,Nf3,d5,exd5,exd5,Ba2,g6,O-O,Bg7,d3,O-O,Qe1,Re8,Ng5,h6,Nf3,Nf5,Qf2,Be6,Qxc5,Ncd4,Bxd5,Nxf3+,Kh1,N3d4,Bxe6,Nxe6,Qf2,Rc8,g4,Nfd4,f5,Nf8,f6,Bh8,Bxh6,Rxc3,bxc3,Re2,Qxd4,Qc7,Bf4', 'Qc6+,Qe4,Rxe4', 'https://lichess.org/training/e393n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E3B0u', 'Rapid', 'blaugelb', 2219, 'Rudinator', 2360, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,a5,g3,b6,Bg2,Bb7,O-O,O-O,Bg5,Be7,Nc3,Ne4,Nxe4,Bxe4,Bxe7,Qxe7,Ne5,Bxg2,Kxg2,d6,Nf3,Nd7,Qd3,e5,e4,f5,dxe5,Nxe5,Nxe5,Qxe5,Qd5+,Qxd5,exd5,f4,Rfe1,Rae8,f3,fxg3,hxg3,Kf7,Kf2,Kf6,b3,a4,b4,Re5,f4,Ree8,Kf3,h5,Rac1,g5,c5,bxc5,bxc5,g4+,Kf2,Kf5,cxd6,cxd6,Rxe8,Rxe8,Rc6,Rb8,Rxd6,Rb2+,Ke3,Rxa2,Rh6,Ra3+,Kf2,Rd3,Rxh5+,Kf6,Rh6+,Kf5,Ra6,a3,d6,Ke6,Kg2', 'Rd2+,Kf1,a2', 'https://lichess.org/training/E3B0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e3B3j', 'Rapid', 'derekperera182', 1796, 'OnseySeyon', 2128, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be2,Nc6,O-O,Nf6,Qd3,Bd6,f4,Nxd4,e5,Nxe2+,Nxe2,Bc5+,Kh1,Nd5,a3,Be3,Bxe3,Nxe3,Qxe3,Qxc2,b4,O-O,Rac1,Qg6,Rf3,b5,Rc7,a5,Rg3,Qf5,Nd4,Qb1+,Rc1,Qb2,Nxb5,axb4,Nd6,Rxa3,Nc4,Rxe3,Nxb2,Re2,Nc4,b3,Rxb3,Ba6,Nd6,h5,Ra3,Ra8,h3,Kh7,Nxf7,Bb7,Rg3,Raa2,Rg1,Kg8,Nd6,Bd5,Nb5,Red2,Nc3,Rac2,Nxd5,Rd4,Nf6+,Kf7,Nxh5,g6,Nf6,Rxf4,Rf3,Rxf3,gxf3,Rf2,Nxd7,Rxf3,Kg2,Re3,Rf1+,Ke7,Nc5,Rxe5,Nd3,Re3,Nf4,g5,Ng6+,Kd6,Rd1+,Kc5,Kf2,Rxh3,Ne5,Ra3,Nd3+,Kd4,Nf4+,Ke5,Nd3+,Kf5,Nc5,e5,Rd5,Ra2+,Ke3,g4,Nd3,Kf6,Nxe5,g3,Ng4+,Ke6,Rd1,Kf5,Nh6+,Kg5,Nf7+,Kg4,Ne5+,Kh3,Kf3,g2,Ng4,Ra3+,Kf4', 'Ra4+,Ke3,Rxg4', 'https://lichess.org/training/e3B3j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e3ctr', 'Rapid', 'carexpilosa', 1654, 'aalo2222', 1647, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,Bd6,d3,Nf6,f4,Bc5,Nd2,O-O,Nf3,d5,e5,Ng4,h3,Ne3,Bxe3,dxe3,Qe2,d4,g4,f6,exf6,Qxf6,f5,c6,Bc4+,Kh8,a3,b5,b4,Bb6,Bb3,Bb7,Qh2,Rae8,Rae1,Re7,Re2,Bc7,Qg2,Rfe8,g5,Qxf5,Nxd4,Qg6,Nf5,c5', 'Nxe7,Bxg2,Nxg6+', 'https://lichess.org/training/e3ctr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e3CVU', 'Rapid', 'Raju2460', 1749, 'dinug', 1756, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,O-O,Bxf3,Qxf3,Qe7,Qh3,Nd4,fxe5,Ne6,exd6,Qxd6,Nc3,O-O-O,Nb5', 'Qc5+,d4,Qxc4', 'https://lichess.org/training/e3CVU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E3CyL', 'Rapid', 'Backrosky', 1903, 'DEKOONING', 1933, 'Nf3,d5,c4,d4,b4,Bf5,Bb2,c5,d3,Nc6,b5,Nb8,e3,dxe3,fxe3,Nf6,Be2,Nbd7,O-O,Bg6,Nh4,e6,Nxg6,hxg6,Bf3,Qc7,g3,Bd6,Qe1,g5,Nd2,Ne5,Bxe5,Bxe5,Rb1,Rb8,b6,axb6,Ne4,Nxe4,Bxe4,f5,Bg2,O-O,Qd1,g6,d4,cxd4,exd4,Rfd8,d5,exd5,Bxd5+,Kg7,Qb3,Bd4+,Kg2,Bc5,Qc3+,Kh7,Rfe1,Qd6,Re6,Qf8,Rbe1,Re8,Qe5,Bd6', 'Rxe8,Bxe5,Rxf8,Rxf8,Rxe5', 'https://lichess.org/training/E3CyL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e3IvY', 'Classical', 'postkartentempo', 1921, 'moaliashwah1', 1843, 'e4,c5,Nf3,d6,c3,Nf6,e5,dxe5,Nxe5,Nbd7,Bb5,a6,Bxd7+,Nxd7,Nf3,b5,d4,Bb7,Be3,e6,O-O,Be7,dxc5,Nxc5,Qe2,Qc7,Rd1,O-O,Nbd2,Rfd8,Nb3,Bxf3,Qxf3,Nd3', 'Rxd3,Rxd3,Qxa8+', 'https://lichess.org/training/e3IvY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E3IwL', 'Blitz', 'dr-j01', 1551, 'dftorresc', 1561, 'c4,Nf6,Nc3,e6,Nf3,d5,e3,c6,d4,c5,cxd5,exd5,g3,cxd4,exd4,Bb4,Bg2,Be6,O-O,O-O,Bg5,h6,Bd2,Nc6,a3,Be7,Ne5,Rc8,Bf4,b6,Rc1,Nh7,Ne2,f6,Nxc6,Rxc6,Rxc6,Bg4,Qd2,g5,Be3,Bc8,Rfc1,Bb7,Rc7,Ba6,Rxa7,Bxe2,Qxe2,Rf7,Bxd5,Qxd5,Rcc7,g4,Bf4,Ng5,Rxe7', 'Nh3+,Kf1,Qh1#', 'https://lichess.org/training/E3IwL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e3nhH', 'Rapid', 'fuyang', 1630, 'henrikjohansson', 1639, 'd4,b6,c4,Bb7,Nf3,e6,e3,Nf6,Nc3,Be7,Bd3,d6,O-O,c5,e4,Nbd7,d5,e5,Bg5,h6,Bh4,O-O,Nb5,a6,Na3,Re8,Nc2,Nf8,Ne3,Bc8,Nd2,Ng6,Bg3,Rb8,f4,exf4,Bxf4,Nxf4,Rxf4,b5,Ng4,bxc4,Nxf6+,Bxf6,Nxc4,Bxb2,Nxb2,Rxb2,Qh5,Qg5', 'Qxf7+,Kh7,e5+', 'https://lichess.org/training/e3nhH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E3npE', 'Rapid', 'ARD-012', 1847, 'Azazel57', 1839, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Nbd7,Nxd5,c5,Rc1,cxd4,Qxd4', 'Qa5+,Bd2,Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/E3npE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e3ORl', 'Blitz', 'ErikSantarius', 2582, 'IM IMFAR', 2606, 'd4,a6,Nf3,b5,e3,Bb7,Be2,e6,O-O,c5,a4,b4,Nbd2,Nf6,c3,bxc3,bxc3,Be7,Nb3,cxd4,cxd4,O-O,Ba3,d6,Rb1,Nbd7,Nfd2,Bc6,Nc1,Nb6,a5,Nbd5,Nc4,Nc3,Qc2,Nxb1,Qxb1,Rb8,Nb6,Nd5,Qc2,Nxb6,Qxc6,Nd5,Qxa6,Ra8,Qd3,Qxa5,Bb2,Qb4,Qc2,Rfc8,Qb1,Rab8,Nd3,Qb3,Bd1,Qb5,Bc2,Nb4,Nxb4,Qxb4,Bxh7+,Kh8,Ba1,Qxb1,Bxb1,d5,Bd3,Rb3,Be2,Rcb8,g3,Rb1,Bd3,Rxf1+,Kxf1,Ba3,Ke2,Bb2,Bxb2,Rxb2+,Kf3,g6,h4,Kg7,g4,Kh6,Kg3,Rd2,Bb5,g5,hxg5+,Kxg5,Be8,Kf6,Bc6,Rc2,Bd7,Rc7,Bb5,Rb7,Bc6,Rb8,Bd7,Rd8,Bc6,Rg8,Kf4,Ke7,f3,f6,Kg3,Kd6,Bb5,Rb8,Bf1,Rb1,Bh3,Rb3,Kf2,e5,dxe5+,fxe5,g5,d4,exd4,exd4,Bf5,Ke5,Be4,Kf4,g6,Rb2+,Ke1,Rg2,Kf1,Rg5,Ke2,Rg2+,Kd3,Ke5', 'f4+,Kf6,Bxg2', 'https://lichess.org/training/e3ORl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E3TmQ', 'Blitz', 'expo63', 1911, 'bojsa', 1861, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Ne5,Bb3,Nf6,O-O,O-O,f4,Nc6,Nc3,Bc5,Be3,Re8,e5,d6,Kh1,dxe5,Nxc6,Qxd1,Raxd1,Bxe3,fxe5,Ng4,Ne7+,Kh8,Bxf7,Rf8,Ne4,Bb6,e6,Ne3,Rf3,Nxd1', 'Ng6+,hxg6,Rh3#', 'https://lichess.org/training/E3TmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E3UOb', 'Blitz', 'Ruslan_Sh', 1585, 'wojtekwariat', 1518, 'e4,c5,Nf3,d6,Nc3,a6,d4,cxd4,Nxd4,Nf6,Bd3,b5,Bf4,e5,Nd5,exf4,Nxf6+,Qxf6,O-O,Qxd4,Kh1,Qf6,Re1,Be7,Qh5,Qg6,Qd5,Ra7,e5,dxe5,Bxg6,hxg6,Rxe5,Rd7,Qe4,Bb7,Qxf4,f6,Re6,Kf7,Rae1,Bd6,Qxd6,Rxd6,Re7+,Kf8', 'Re8+,Kf7,R1e7#', 'https://lichess.org/training/E3UOb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E3x41', 'Rapid', 'Iosh', 2224, 'Riuzakii', 2289, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,g6,Be3,Bg7,f3,b5,a3,Nbd7,Qd2,Bb7,h4,h5,O-O-O,Rc8,Bg5,Qb6,Be3,Qc7,Rdg1,Ne5,Bg5,Nc4,Bxc4,Qxc4,Qd3,Qxd3,cxd3,Nxe4,dxe4,Bxd4,Rd1,Bxc3,bxc3,Rxc3+,Kb2,Rc4,Rc1,d5,exd5,Bxd5,Rhd1,Rxc1,Rxc1,Kd7,Re1,Re8,Rd1,e6,Bf6,Rc8,Rd2,Kd6,g3,Rc4,f4,Re4,Rd3,Re2+,Kc3,Kc6,Kb4,Re4+,Bd4,f6,Rc3+,Kb7,Kc5,e5,Bxe5,fxe5,Kxd5,Rc4,Rxc4,bxc4,Kxc4,exf4,gxf4,Kc6,Kd4,Kd6,Kc4', 'Ke6,Kd4,Kf5', 'https://lichess.org/training/E3x41');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e3xdQ', 'Rapid', 'iselin69', 1769, 'Nondeficere', 1858, 'e4,e6,d4,d5,exd5,exd5,h3,Nf6,Nf3,Be7,Bb5+,c6,Bd3,O-O,O-O,Re8,c4,Na6,a3,Bd6,Bg5,h6,Bxf6,Qxf6,cxd5,cxd5,Nc3,Be6,Re1,Rad8,Ne5,Bb8,Bxa6,bxa6,Qa4,Bc8,Nc6,Qd6,Nxd8', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/e3xdQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e3yQw', 'Rapid', 'yoyo1370', 2025, 'isedra1985', 1964, 'c4,Nf6,e3,c6,b3,d5,Bb2,e6,Nf3,Be7,Be2,O-O,O-O,b6,d4,Bb7,cxd5,cxd5,Nbd2,Nbd7,Rc1,Rc8,Ne5,Rxc1,Qxc1,Qc8,Nxd7,Qxd7,Nf3,Rc8,Qb1,Qd8,Rc1,Nd7,Bd3,h6,Rxc8,Qxc8,Qc2,Qxc2,Bxc2,Bf6,a3,Ba6,h3,Be2,Nd2,Be7,e4,dxe4,Nxe4,Nf6,Ng3,Ba6,b4,Nd5,Ne4,Bb7,g4,Nf4,Kh2,Bd8,Bc1,Bc7,Bxf4,Bxf4+,Kg2', 'f5,gxf5,exf5,f3,fxe4', 'https://lichess.org/training/e3yQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e3yr8', 'Blitz', 'Guzorochi', 1861, 'chicofino', 1802, 'e4,e5,Nc3,Nc6,Nf3,Nf6,Bb5,Nd4,Nxd4,exd4,Ne2,c6,Bd3,d5,exd5,cxd5,Nxd4,Bc5,Qe2+,Kf8,c3,Bxd4,cxd4,Be6,O-O,g6,f4,Qb6,f5,Qxd4+,Kh1,Bd7,fxg6,hxg6,b3,Qxa1,Ba3+,Kg8,Rxa1,Ne4,Bxe4,dxe4,Qxe4,Bc6,Qe5,Rh5,Qf6,Rf5,Qc3,Rg5,Rg1,Re8,Bb2', 'Bxg2+,Rxg2,Re1+,Rg1,Rexg1#', 'https://lichess.org/training/e3yr8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E3Ytk', 'Rapid', 'Mygame5377', 1796, 'NeuroticOutsider', 1785, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,Nf3,Bb4,Bd2,Nge7,O-O,O-O,Qc1,d5,exd5,exd5,Bd3,Bf5,Bxf5,Nxf5,a3,Ba5,b4,Bb6,Bg5,f6,Bf4,Rc8,Qd2,Ncd4,Nxd4,Bxd4,Rac1,Re8,Nb5,Rxc1,Rxc1,Qb6,g4,Qxb5,gxf5,Be5,Rc5,Bxf4', 'Qxd5+,Kf8,Rxb5', 'https://lichess.org/training/E3Ytk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E41Rd', 'Rapid', 'mohamedwaly', 2160, 'DaSilvaW', 2229, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,Re1,e5,c3,Nf6,d4,cxd4,cxd4,exd4,Bg5,Be7,Nxd4,Nxd4,Qxd4,O-O,Bxf6,Bxf6,e5,Be7,Nc3,Qc6,Nd5,Bd8,Rac1,dxe5,Qxe5,Qh6,Rc3,g6,Rb3,b6,f4,Rc8,f5,Rc5,Qd6,Qh4,Rbe3,Bg5,Re8,Rxe8', 'Rxe8+,Kg7,Qf8#', 'https://lichess.org/training/E41Rd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e424w', 'Rapid', 'Bovik', 1669, 'Redcliff26', 1659, 'e4,c5,Bc4,e6,Nf3,a6,d4,b5,Bd3,Nf6,e5,c4,Bxc4,bxc4,exf6,Qxf6,d5,d6,Bg5,Qg6,h4,f6,Be3,Be7,Bb6,Nd7,Ba5,Bb7,dxe6,Nc5,Nd4,O-O,f3,Qxg2,Rf1,Qg3+,Rf2,Qxh4,Nd2,Rac8', 'Nf5,Qh1+,Rf1,Qh2,Nxe7+', 'https://lichess.org/training/e424w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E45x9', 'Blitz', 'ghost_2016', 2021, 'tatlisumak', 2092, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nf3,Bb4+,c3,Qe7+,Be3,Bd6,O-O,O-O,Bg5,Bg4,Nbd2,Nbd7,b4,c6,Qc2,Qe8,a4,Qb8,Rfe1,Bf4,Bxf6,Nxf6,Ne5,Bh5,Ndf3,Bg6,Nxg6,hxg6,Re2,Re8,Rae1,Rxe2,Rxe2,Qd6,h3,Re8,Rxe8+,Nxe8,Qe2,Nf6,g3,Bh6,Kg2,Qd8,Qe5,Bc1,a5,a6,Qe1,Bh6,Ne5,Qe7,Qe2,Nh5,Qg4,Qe8,Nxf7,Qxf7,Bxg6,Qf8,Bxh5,Bd2,Bg6,Bxc3,Qh5,Qf6,Qh7+,Kf8,Qh8+,Ke7,Qe8+,Kd6,Qb8+,Ke6,Qc8+,Kd6,Bf5,Bxd4', 'Qd7+,Ke5,f4#', 'https://lichess.org/training/E45x9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E49MC', 'Classical', 'Slusher', 1797, 'king_master', 1914, 'd4,c6,c4,d5,e3,Nf6,Nf3,Bg4,Be2,e6,h3,Bh5,O-O,Bd6,Nc3,Nbd7,a3,O-O,b4,Bxf3,Bxf3,dxc4,Qc2,Nd5,Ne2,b5,Bb2,f5,a4,Bxb4,axb5,cxb5,Bxd5,exd5,Nf4,Nf6,Ne6,Qd7,Nxf8,Rxf8,Bc3,Bxc3,Qxc3,Ne4,Qc2,b4,f3,Ng3,Rfe1,b3,Qc3,Rb8,Kf2,Qd6,Ra4,b2,Rb1,Rb3,Qc2,Qb8,Ra2,c3,Ra5,Nh1+,Kg1,Ng3,Rxd5,Ra3,Rc5,Ra1,Kf2,f4,Rxc3,fxe3+,Rxe3,Nh1+,Kg1,Rxb1+,Qxb1,Qf4,Rc3', 'Qxd4+,Kxh1,Qxc3', 'https://lichess.org/training/E49MC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E4A0H', 'Blitz', 'Stanislav51', 2053, 'DemonDark3', 2039, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,h6,Nf3,Bc5,O-O,O-O,Nxe5,Re8,Nf3,Bf5,c3,Nb7,d4,Bb6,Bf4,c5,dxc5,Qxd1,Rxd1,Nxc5,Bc4,Bg4,Nbd2,Rad8,Re1,Nce4,Nxe4,Nxe4,Be3,Rb8,Bxb6,Rxb6,Bb3,Bxf3,gxf3', 'Rg6+,Kf1,Nd2#', 'https://lichess.org/training/E4A0H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e4CpQ', 'Rapid', 'KratzeKatze', 1789, 'mefistofel82', 1801, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,Qb6,Be2,Bd7,O-O,cxd4,cxd4,Nge7,Nc3,Nf5,Na4,Qa5,Bd2,Bb4,Bc3,Bxc3,bxc3,b5,Nc5,Qxc3,Rc1,Qa5,Nxd7,Kxd7,Qb3,Nfxd4,Nxd4,Nxd4,Qb2,Nxe2+,Qxe2,Rhc8,Rc2,Rxc2,Qxc2,g6,Rc1,Ke7', 'Qc5+,Ke8,Qc6+,Kf8,Qxa8+', 'https://lichess.org/training/e4CpQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e4Khu', 'Rapid', 'PRBK', 1600, 'serenata42', 1683, 'd4,d5,c3,c5,Nf3,Bg4,dxc5,Nc6,g3,e5,Bg2,Bxf3,Bxf3,Bxc5,Nd2,f5,Bg2,Nf6,Nb3,Bb6,Bg5,O-O,Bxd5+', 'Qxd5,Qxd5+,Nxd5', 'https://lichess.org/training/e4Khu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e4nFW', 'Rapid', 'Norefunds', 1640, 'Pgermanio', 1689, 'd4,g6,c4,Bg7,Nc3,c5,d5,Qa5,Bd2,Qb4,Nf3,Qxc4,e4,Qb4,Rb1,d6,Nb5,Qxe4+,Be2,Na6,Nc3,Qg4,O-O,Nf6,Ne5,Qd4,Bb5+,Nd7,Nxd7,Bxd7,Bxd7+,Kxd7,Nb5,Qxd5,Qg4+,f5,Qe2,Nc7', 'Nxc7,Kxc7,Qxe7+', 'https://lichess.org/training/e4nFW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E4OIr', 'Rapid', 'murali8686', 1700, 'sandzzz', 1749, 'd4,g6,Nf3,Bg7,e3,d6,Bd2,Nf6,Nc3,O-O,Bd3,Nc6,O-O,Re8,e4,Bg4,a3,Bxf3,Qxf3,Nxd4,Qd1,a6,Be3,Nc6,Nd5,e6,Nf4,Ng4,Qxg4,Bxb2,Rab1,Bxa3,e5,Nxe5,Qg3,b5,Bd4,Nxd3,Qxd3,e5,Nd5,Bc5,Bxc5,dxc5,Rbd1,c6,Nf6+,Qxf6,Qe3,c4,Qc5,Qe7,Qxc6,Rec8,Qe4,Rd8,Rxd8+,Rxd8,g3,a5,Rb1,b4,Qxc4,Qb7,Re1,Qd5,Qc7,f6,Qe7,Qd6,Qa7,Qd5,Qa6,Kf7,Qa7+,Rd7,Qe3,a4,Qh6,Ke6,Qh3+,f5,g4,e4,gxf5+,Qxf5,Rxe4+,Kf7,Qxh7+,Kf6,Qh8+,Kf7,Qe8+,Kf6,Qf8+,Kg5', 'h4+,Kh5,Qh8+,Rh7,Qxh7#', 'https://lichess.org/training/E4OIr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e4quA', 'Rapid', 'AxelAKei1', 1727, 'telaskei', 1696, 'e4,e5,f4,exf4,Nf3,Nf6,Nc3,Bb4,d3,Bxc3+,bxc3,O-O,Be2,d6,Bxf4,Nc6,O-O,Bg4,Qe1,Qd7,Qg3', 'Nh5,Qh4,Nxf4', 'https://lichess.org/training/e4quA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e4RLL', 'Blitz', 'ebrianskiy', 1947, 'LanceLegal', 1949, 'd4,b6,c4,Bb7,Nc3,e6,e4,Be7,Bd3,d6,Nge2,Nd7,O-O,g5,Be3,h5,Qc2,g4,Ng3,Bg5,d5,e5,Nf5,Rh7,b4,Nh6,Rfe1,Bxe3,Rxe3,Nxf5,exf5,f6,a4,Kf7,Nb5,a6,Na3,Qg8,c5,Bxd5,cxd6,c6,Bc4,Ke8,Bxd5,Qxd5,Rd1,Qf7,Qxc6,Rd8,b5,a5,Nc4,h4,Nxe5,fxe5,Rxe5+,Kf8,Re7,Qxf5,Rde1,g3,fxg3,hxg3,Rxh7', 'Qf2+,Kh1,Qxe1#', 'https://lichess.org/training/e4RLL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E4rmN', 'Classical', 'martinsdarden', 1640, 'Andromeda3', 1665, 'e4,c5,Nf3,e6,Nc3,a6,Bc4,Nc6,O-O,Nf6,d4,cxd4,Nxd4,d5,exd5,exd5,Re1+,Be7,Bb3,O-O,Nf3,d4,Ne2,Bc5,a3,Bg4,Qd3,Bxf3,Qxf3,Re8,Bg5,Ne5,Qxb7,d3,cxd3,Nxd3,Bxf7+,Kh8,Bxe8,Nxe1,Bxf6,Qxf6,Qxa8', 'Qxf2+,Kh1,Qf1+,Ng1,Qxg1#', 'https://lichess.org/training/E4rmN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e4U5T', 'Classical', 'Thomaswagihtota', 1888, 'Rokki', 1862, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,cxd4,axb4,dxc3,bxc3,Qc7,Qd4,Nc6,Qe3,Qxe5,Bb5,Qd6,Qg5,g6,Bf4,Qe7,Bxc6+,bxc6,Qe5,Qf6,Qe3,Qf5,Ne2,Ne7,Nd4,Qe4,Qxe4,dxe4,O-O,Bb7,Bd6,Nf5,Bc5,Nxd4,Bxd4,Rg8,Rxa7,Rxa7,Bxa7,Kd7,Rd1+,Kc7,Bc5,Rd8', 'Bb6+,Kxb6,Rxd8', 'https://lichess.org/training/e4U5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E4u79', 'Rapid', 'UnabomberFR', 1612, 'eltak', 1747, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5a3,Be6,Nc3,Nf6,Nc2,Be7,f3,O-O,Bd3,Nh5,Nd5,Bg5,O-O,f5,exf5,Bxf5,Bxf5,Rxf5,a4,Rc8,a5,Ne7,g4,Bxc1,Rxc1,Nxd5', 'Qxd5+,Rf7,gxh5', 'https://lichess.org/training/E4u79');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e4uxb', 'Blitz', 'shapooorb3', 2167, 'FM melksham', 2314, 'd4,Nf6,Bf4,b6,e3,Bb7,Nf3,e6,Bc4,Be7,c3,c5,Nbd2,cxd4,exd4,d6,O-O,O-O,Re1,Nbd7,Bb3,Re8,Nf1,Bf8,Ng3,a6,Qe2,b5,Rad1,Qc7,Bc2,Qc6,Ne4,Nxe4,Bxe4,Qxe4,Qxe4,Bxe4,Rxe4,Rec8,a3,Nb6,Rde1,Nc4,Bc1,a5,Nd2,d5,Nxc4,bxc4,R4e2,a4,g4,Bd6,h3,Re8,Kg2,Ra7,f4,Rae7,Kf3,f6,Bd2,Kf7,h4,g6,g5,Kg7,gxf6+,Kxf6,f5,exf5', 'Bg5+,Kf7,Bxe7', 'https://lichess.org/training/e4uxb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e4V2Z', 'Rapid', 'Raclot', 1687, 'hkragelund', 1744, 'd4,f5,e4,d6,Nc3,Nf6,Bd3,e6,Nge2,Be7,Ng3,fxe4,Ngxe4,O-O,O-O,Nc6,d5,exd5,Nxf6+,Bxf6,Nxd5,Bd4,Qh5,g6,Bxg6,hxg6,Qxg6+,Bg7,Bh6,Rf7,Rae1,Bf5,Re8+,Qxe8,Nf6+,Kf8,Qxf5,Rxf6', 'Qxf6+,Qf7,Bxg7+', 'https://lichess.org/training/e4V2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e4WGa', 'Rapid', 'Master-rpg', 1686, 'cosqun88', 1658, 'e3,e5,d4,e4,Ne2,d5,Nf4,Nf6,Nh5,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/e4WGa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E4zgr', 'Blitz', 'FM dilwending', 2234, 'Fafali1383', 2115, 'd4,c6,c4,d6,Nf3,Qc7,g3,e5,Bg2,Nf6,O-O,Bg4,Nc3,Nbd7,h3,Bh5,e4,Be7,Be3,O-O,Qc2,Rfe8,Rad1,Nf8,a3,a5,b4,axb4,axb4,Ne6,c5,exd4,cxd6,Bxd6,Bxd4,Nxd4,Rxd4,Bxf3,Bxf3,Be5,Rc4,Ra3', 'Nb5,Qd7,Nxa3', 'https://lichess.org/training/E4zgr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E51ui', 'Blitz', 'SjakkSparrow', 1721, 'Merecallido', 1651, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,b6,c4,Bb7,Nc3,Bb4,Bd3,Qf6,a3,Bc5,Nf3,Nc6,O-O,h5,Bg5,Qg6,e5,f5,exf6,Qf7,Nh4,gxf6,Bg6,O-O-O,Bxf7,fxg5,Nf3,Nh6,Bxh5,g4,Ng5,Ne5,b4,g3,bxc5,gxh2+,Kh1,Nf5,Bf3,Bxf3,Nxf3,Ng4,cxb6', 'Nxf2+,Rxf2,Ng3#', 'https://lichess.org/training/E51ui');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E55GM', 'Blitz', 'GlebKl', 1659, 'xxxCHASExxx', 1687, 'e4,Nf6,Nc3,b6,d4,Bb7,Bc4,Nxe4,Qd3,Nxc3,bxc3,Bxg2,Nf3,Bxh1,Bxf7+,Kxf7,Qf5+,Ke8,Ng5,Qc8,Qf7+,Kd8,Qf5,e6,Qf4,Rg8,Nf7+,Ke8,Ng5,Rh8', 'Qf7+,Kd8,Nxe6+,dxe6,Bg5+,Be7,Qxe7#', 'https://lichess.org/training/E55GM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E5bq7', 'Rapid', 'Jose_Bernardo_Bello', 2196, 'killa-beez', 2188, 'd4,d5,Bf4,c5,e3,Qb6,b3,Bf5,c3,e6,Nf3,Nc6,Be2,cxd4,exd4,Be7,O-O,h6,c4,dxc4,bxc4,Rd8,d5,Nf6,Nc3,O-O,Be3,Qa5,Nb5,exd5,cxd5,Nxd5,Bd2,Qb6,Bc4,Bf6,Qb3,Bxa1,Rxa1,Be6,a4,Na5,Bxa5,Qxa5,Nfd4,a6,Nxe6,fxe6,Nd4,Rf6,Rd1,b5,axb5,axb5,Nxb5,Qb6,Rf1,Kh8,Qd3,Ne3', 'Qxe3,Qxe3,fxe3', 'https://lichess.org/training/E5bq7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5cmZ', 'Rapid', 'Semenovshef', 2056, 'Samir87', 2061, 'Nf3,d5,c4,c6,e3,e6,Nc3,Nf6,d4,Nbd7,cxd5,exd5,Bd3,Be7,O-O,O-O,Re1,c5,dxc5,Nxc5,Bc2,Bg4,h3,Bh5,Bf5,Ne6,e4,dxe4,Nxe4,Qxd1,Rxd1,Bxf3,gxf3,Rfd8,Be3,Nc7,Rxd8+,Rxd8,Bxa7,g6,Nxf6+,Bxf6,Be4,Ne6,a4,Ng5,a5,Nxe4,fxe4,Bxb2,Rb1,Bc3,Rxb7,Bxa5,Rb5,Bc3,Rd5,Ra8,Be3,Bg7,e5,Re8,Bd4,h5,h4,Kf8,Kg2,Ke7,Kf3,Rd8,Bc5+,Ke8,Bd6,Kd7', 'Bf8+,Ke6,Rxd8', 'https://lichess.org/training/e5cmZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E5cpv', 'Blitz', 'Attacker_960', 1831, 'Aminbouka', 1813, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,Be7,Nbd2,O-O,Bd3,Nbd7,O-O,c5,c3,b6,Ne5,Bb7,Ndf3,Rc8,Nxd7,Qxd7,Ne5,Qd8,Bg5,h6,Bh4,a6,Bxf6,Bxf6,f4,cxd4,exd4,b5,a3,Rc7,Qg4,Bc8,Ng6,fxg6,Qxg6,Rb7,Rf3,Qe8', 'Qh7+,Kf7,Bg6+,Ke7,Bxe8', 'https://lichess.org/training/E5cpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5d3H', 'Rapid', 'guvencagli', 1663, 'GirDey', 1661, 'b3,e5,Bb2,Nc6,a3,d5,e3,d4,Bb5,dxe3,fxe3,Bd7,Qh5,Qf6,Nc3,O-O-O,Nd5,Qe6,Bc4,Be8', 'Nb6+,axb6,Bxe6+', 'https://lichess.org/training/e5d3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5hzD', 'Rapid', 'cacofonix342', 1915, 'dalejos', 1732, 'e4,d6,Nf3,Nf6,Nc3,Nbd7,d4,e5,d5,c6,dxc6,bxc6,Bg5,Be7,Bc4,O-O,O-O,h6,Bh4,a5,Qd2,Ba6,Bxa6,Rxa6,Bxf6,Nxf6,Rad1,Qc7,Nh4,Rd8,Nf5,Bf8,a4,d5,b3,d4,Ne2,Nxe4,Qd3,Nc5,Qg3,Kh8,Nexd4,Qc8,Nf3', 'Rxd1,Rxd1,Qxf5', 'https://lichess.org/training/e5hzD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E5Ic9', 'Blitz', 'tylcgl', 1594, 'HenryBalua', 1607, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,h6,Bd3,Bxd3,Qxd3,Nf6,O-O,e6,b3,Be7,Bb2,O-O,c4,Nbd7,Rfe1,Rb8,Ne5,Nxe5,Rxe5,Ng4,Re4,Nf6,Re2,b5,c5,Nd5,Qf3,a5,Rd1,Ra8,Ne4,a4,Bc1,axb3,axb3,Ra1,Ree1,Qa5,Qg3,Ra8,Bxh6', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/E5Ic9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E5idl', 'Rapid', 'rumoaos2000', 1831, 'richi91', 1808, 'e4,e5,Bc4,Nc6,Nc3,Nf6,d3,Be7,Nf3,O-O,Bg5,d6,Qd2,Na5,Bb3,Nxb3,axb3,c5,Bxf6,Bxf6,Nd5,Be6,c4,Bxd5,cxd5,g6,Qh6,Bg7,Qg5,Qb6,Ra3,f5,h4,fxe4,dxe4,Qb4+,Nd2,Rf4,f3,Qd4,h5,Qxb2,hxg6,Qxa3,gxh7+,Kh8,Rh3,Raf8,Rg3,R4f7,Nc4,Qa1+,Kf2,Qd4+,Kf1,Qd1+,Kf2,Bf6', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/E5idl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5JXn', 'Rapid', 'chefirban', 988, 'RokitDog', 995, 'e3,e5,Qh5,Nf6,Qxe5+,Be7,Bc4,Nc6,Qc5,Bxc5,d4,d5,Bb5,O-O,dxc5,Ne4,Nf3,Nxc5,e4,dxe4,Ng5,a6,Bxc6,bxc6,Bf4,Ra7,O-O,a5,Nc3,Ba6,Rfd1,f6,Rxd8,Rxd8,Ncxe4,Rd4,Nxc5,Rxf4,Re1,fxg5,Nd7,Ra8,Re7,Raf8,Ne5,Rxf2,g3,Rf1+,Kg2,R8f2+,Kh3,h6,Re8+,Kh7,Nf7,h5,Nxg5+,Kg6,Ne6,h4,Rg8,Kf6,Nxg7,Bc8+,Rxc8,Rg1', 'Rf8+,Kxg7,Rxf2', 'https://lichess.org/training/e5JXn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5Kdz', 'Classical', 'Wolkos12', 1760, 'gourav2001k', 1628, 'e4,e6,d4,d5,e5,Nc6,Nf3,Nh6,Bb5,Nf5,c3,Bd7,O-O,a6,Ba4,b5,Bc2,Be7,Bxf5,exf5,Nbd2,h6,Nb3,g5,Re1,g4,Nfd2,h5,Nf1,h4,Nc5,Bg5,Nxd7,Kxd7,Qc2,Bxc1,Qxf5+,Ke7,Raxc1,Qg8,Qf6+,Kd7,Qxf7+', 'Qxf7,e6+,Qxe6,Rxe6,Kxe6', 'https://lichess.org/training/e5Kdz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5lWT', 'Blitz', 'dillatuerojakekris', 2136, 'Gemstines', 1936, 'e4,Nf6,Nc3,e6,d4,Bb4,e5,Nd5,Bd2,Qh4,Nf3,Qe7,Nxd5,Bxd2+,Qxd2,exd5,Bd3,O-O,h4,h6,Ng5,c5,c3,cxd4,cxd4,Nc6,a3,Nxd4,Bh7+,Kh8,Qxd4,f6,f4,fxg5,hxg5,Kxh7,gxh6,gxh6,O-O-O,Qe6,Rh4,b6,Rdh1,Ba6,Kb1,Rac8,g4,Rc4,Qd3+,Kg7,f5,Qxe5,Qd2,Qf4,Qxd5,Rd4,Qb3,Bc4,Qh3,Qe4+,Ka1,Qc2,Qf3,Qb3,f6+,Kg8,Qxb3,Bxb3,Rxh6,Rxg4,Rh8+,Kf7,R1h7+,Kxf6,Rxf8+,Ke6,Rff7', 'Rg1+,Rf1,Rxf1#', 'https://lichess.org/training/e5lWT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E5Mgy', 'Rapid', 'Azizhas', 1876, 'Rishabhjain2006', 1806, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,O-O,e3,d5,Bd3,dxc4,Bxc4,c5,Nf3,cxd4,exd4,Nc6,O-O,Bxc3,bxc3,b6,Bb3,Bb7,h3,Na5,c4,Rc8,Rc1,Ba6,Re1,Nxc4,Bxc4,Rxc4,Rxc4,Bxc4,a3,h6,Bh4,Bd5,Ne5,Qa8,f3,Nh5,f4,Nxf4,Rf1,Nxg2,Qg4,Ne3,Qg3,Nxf1,Kxf1,f5,Ng6,Re8,Ne7+,Kf7,Qg6+,Kf8,Qh7,Kf7,Ng6,Bc4+,Kf2,Qe4', 'Ne5+,Qxe5,dxe5', 'https://lichess.org/training/E5Mgy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E5n3V', 'Rapid', 'HaMeDoV', 1785, 'Ahmadinejad', 1845, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,c5,e3,O-O,Nf3,cxd4,exd4,Bxc3+,bxc3,b6,Be2,Bb7,O-O,d6,d5,exd5,cxd5,Nbd7,c4,Qc7,Qb3,Nc5,Qc2,Nce4,Bf4,Rfe8,Bd3,h6,Rfe1,Nc5,Bf5,Nh5,Bd2,Nf6,Nd4,a6,h3,Rad8,Re3,Rxe3,Bxe3,Re8,a4,Nce4,Rb1,Bxd5,cxd5,Qxc2,Nxc2,Nxd5,Bxe4,Rxe4,Bxb6,Rxa4,Ne3,Nc3,Re1,d5,Nf5,Ne4,Ne7+,Kh7,Nxd5,Nd6,Rd1,Nc4,Bc7,Ra2,Nb6,Nxb6,Bxb6,Rb2,Bd4,Rb4,Kf1,Rc4,Ke2,Rc6,Kd3,Kg6,Ra1,Kh7,f4,Kg6,g4,f6,h4,h5,g5,Kf5,Ke3,Re6+,Kf3,fxg5,fxg5,Kg6,Ra5,Rd6,Be5,Rc6,Bd4,Rd6,Be3,Kf7,Rf5+,Kg6,Rf8,Rc6,Rb8,Kf5,Bd4,g6,Rf8+,Ke6,Rf6+,Kd5,Rxc6,Kxc6,Kf4,Kd5,Bb2,a5,Ba1,Ke6,Bc3,a4,Bh8,Kd5,Ba1,Ke6,Ke4,a3,Bc3,a2,Kd3,Kf5,Kc2', 'Kg4,Kd1,Kxh4,Ke1,Kxg5', 'https://lichess.org/training/E5n3V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5NF7', 'Rapid', 'Alkun57', 1987, 'Gilkafka10', 1746, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,Bb4,Bc4,Nc6,O-O,Bxc3,bxc3,d5,exd5,exd5,Bd3,O-O,Bg5,Qd6,Qf3,Ne5,Qf4,Nh5,Qd2,Ng4,g3,Ne5,Be2,Nf6,Qf4,Ne4,f3,Nxc3,Bd3,Bh3,Bxh7+,Kh8', 'Qh4,Qh6,Bxh6', 'https://lichess.org/training/e5NF7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5nKT', 'Blitz', 'Brayan3005', 1680, 'armanb', 1704, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Ba6,d3,Nf6,Re1,Be7,h3,O-O,Nc3,Nd7,a3,Nb6,Ne2,c5,Ng3,c4,dxc4,Nxc4,b3,Nb6,a4,Bb7,Nh2,Nd7,Qg4,Bh4,Nf5,Bf6,Bh6,Kh8', 'Bxg7+,Bxg7,Qxg7#', 'https://lichess.org/training/e5nKT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5NUm', 'Rapid', 'chessna172', 1890, 'katsefronima', 1949, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,Bf6,Be3,Ne7,Be2,a6,Qd2,b5,Bf3,Be5,O-O-O,Nd7,Bg5,b4,Nd5,f6,Ne6,Nxd5,Nxg7+,Kf7,Bh5+,Kxg7', 'Bh6+,Kg8,Qxd5#', 'https://lichess.org/training/e5NUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E5p4L', 'Classical', 'miladsheikhha', 1635, 'walidd', 1634, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,c4,d6,O-O,Bg4,d3,e5,b3,d5,Nbd2,d4,Qe1,Nf6,Nxe5,Bd7,f4,Bd6,Ndf3,O-O,Nxd7,Nxd7,e5,Re8,Qg3,Bc7,Bd2,Re6,Rae1,Rg6,Ng5,h6,f5,Rxg5,Bxg5,Qxg5,Qxg5,hxg5,e6,fxe6,fxe6,Nf6,h3,Re8,Rf5,Bf4,Rxc5,Be3+,Rxe3,dxe3,Rxc6,Rd8,e7,Rxd3', 'Rxf6,gxf6,e8=Q+', 'https://lichess.org/training/E5p4L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E5pww', 'Rapid', 'Vanhurt', 1891, 'Eric-EPL', 1823, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,a6,Be2,Bg4,O-O,Nc6,Be3,O-O-O,Ng5,Bxe2,Nxe2,Qd5,c3,h6,Nf3,g5,Qb3,e6,c4,Qe4,Qc3,Bb4,Qb3,g4,Nd2,Bxd2,Bxd2,Nxd4,Nxd4,Rxd4,Bc3,Rd3,Qc2,g3,Bxf6,gxh2+,Kh1,Rg8,f3,Qg6,Bc3,Qg3,Qf2,Qg5,Kxh2,Qh5+,Kg1,Rd6,Rad1,Rc6,b3,Rc5,Rd2,Rcg5,Qa7,c6,Qd4,Qh3,Rff2,h5,Qd7+,Kb8,Qd3,h4,f4', 'Rxg2+,Rxg2,Rxg2+,Rxg2,Qxd3', 'https://lichess.org/training/E5pww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5qKU', 'Rapid', 'MedetZhomartovich', 1860, 'Pol-333', 1887, 'd4,d5,c4,c6,Nc3,Nf6,f3,e6,e4,dxe4,fxe4,Bb4,Qd3,Nh5,Nf3,c5,Be3,Nc6,d5,exd5,exd5,Ne7,Be2,O-O,Bd1,Bf5,Qd2,Nf6,O-O,Ne4,Qe1,Bxc3,bxc3,Qa5,Bd2,Nc8,Ne5,g6,Bc2,Nxd2,Qxd2,Bxc2,Qxc2,Nd6,Rf6,Rad8,Raf1,Qc7,h4,Rde8,Ng4,Re4,Qd1,Qd7,Nf2,Rxh4,Qf3,Nxc4,Qd3,Nd6,Nh3,Nf5,Qf3,Kg7,Rxf5,gxf5,Nf4,Qd6', 'Qg3+,Kh8,Qxh4', 'https://lichess.org/training/e5qKU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5s5a', 'Classical', 'CaturVierD', 1796, 'ZouhairHousni', 1883, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,Bd2,a6,b4,Ba7,c3,Bg4,h3,h5,hxg4,hxg4,Ng5,Qe7,Bxf7+,Kf8,Bb3,g3,Ne6+,Ke8,Be3,Bxe3,fxe3,Rh4,Rf3,Nh5,Rf8+,Kd7,Rxa8', 'Rh1+,Kxh1,Qh4+,Kg1,Qh2+,Kf1,Qh1+,Ke2,Qxg2+,Ke1,Qf2#', 'https://lichess.org/training/e5s5a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5s9n', 'Blitz', 'getero', 1764, 'user370417', 1761, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,Bb5,dxe4,Bxc6+,bxc6,Ne5,Bb7,Nc3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/e5s9n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E5sGA', 'Blitz', 'war_for_territory', 1799, 'Arranz', 1661, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,Re1,Nc5,Bxc6,dxc6,Nxe5,Be6,c3,Qf6,d4,Nd7,Nxd7,Kxd7,Nd2,Bd6,Nf3,h6,Qd3,Rae8,Bd2,Kc8,c4,Bg4,Ne5,Bxe5,dxe5,Rxe5,Be3,Bf5,Qc3,Rhe8,h3,Qg6,Kh2,f6,Rad1,Be4,g3,Qf5,Qd4,Qf3', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/E5sGA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e5VEa', 'Rapid', 'CommiePawn01', 2268, 'Rajeshsharma0123', 2253, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,Nbd7,Nge2,e6,O-O,Be7,a4,O-O,d3,Rb8,h3,b6,Kh2,Bb7,f4,h6,Be3,a6,Qd2,Qc7,f5,exf5,exf5,Bxg2,Kxg2,Qb7+,Kh2,Ne5,Ng1,Nfg4+,hxg4,Nxg4+,Kh3,Qh1+,Kxg4', 'h5+,Kf4,g5+,fxg6,fxg6#', 'https://lichess.org/training/e5VEa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E5VlV', 'Rapid', 'Walatarides', 2092, 'Sergey0812', 2079, 'd4,c5,d5,e6,c4,exd5,cxd5,Nf6,Nc3,d6,e4,Bg4,Qb3,Qe7,f3,Bh5,Bb5+,Nbd7,Bxd7+,Qxd7,Nge2,a6,a4,Be7,O-O,O-O,Bg5,h6,Bh4,Bg6,a5,Nxd5,Nxd5,Bxh4,Nb6,Qc6,Nxa8,Rxa8,Nf4,Bh7,Rad1,Rd8,Nd5,Kf8,Rd3', 'c4,Qc3,cxd3', 'https://lichess.org/training/E5VlV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e62E9', 'Rapid', 'kazem940', 1902, 'mehdizare343', 1854, 'd4,d5,e4,e6,Nc3,c5,dxc5,Bxc5,exd5,Qf6,Ne4,Qe5,Bd3,exd5,Nf3,Qe7,O-O,dxe4,Re1,Be6,Bxe4,Nc6,Bxc6+,bxc6,Ng5,Qf6,Nxe6,fxe6', 'Qh5+,Qf7,Qxc5', 'https://lichess.org/training/e62E9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E63B8', 'Rapid', 'greendragonmask', 1734, 'Monalonasnake', 1744, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,Nxd5,Qxd5,Nf3,Bg7,Bf4,Nc6,e3,Qa5+,Nd2,e5,dxe5,Nxe5,Be2,O-O,O-O,Nc6,Rb1,Qxa2,Qc2,Bf5,e4,Nd4,Qd3,Nxe2+,Qxe2,Be6,Bxc7,Rac8,Bg3,Bxb2,Nf3,Bc4,Qxb2,Qxb2,Rxb2,Bxf1,Kxf1,Rc1+,Ke2,b6,Ra2,a5,Rb2,Rc6,Ne5,Re6,Nd7,Rxe4+,Kd3,Rfe8,Nxb6,a4,Ra2,Re1,Rxa4,Rg1,Kd4,Rxg2,Ra1,h5,Nd5,h4,Nf6+,Kf8', 'Bd6+,Kg7,Nxe8+', 'https://lichess.org/training/E63B8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e658N', 'Rapid', 'nando1000', 1938, 'CRUSHer_ng_Bicas2', 1940, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,cxd6,Nc3,g6,Nf3,Bg7,Be3,O-O,Qd2,Re8,Bh6,Bh8,Bd3,Be6,Nh4,Nxc4,Qc2,Nc6,Nxg6,Nb4', 'Nxe7+,Qxe7,Bxh7#', 'https://lichess.org/training/e658N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e68xB', 'Rapid', 'Hansilein', 1648, 'gabs92', 1652, 'e4,c5,Bc4,g6,Nf3,Bg7,Nc3,Nc6,d3,a6,Be3,d6,Qd2,b5,Bd5,Bb7,a3,Nf6,Ba2,O-O,Bh6,Nd4,Nxd4,cxd4,Ne2,e5,Bxg7,Kxg7,h4,h5,Qg5,d5,Ng3,dxe4', 'Nf5+,Kh8,Qh6+,Nh7,Qg7#', 'https://lichess.org/training/e68xB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6B29', 'Bullet', 'bbzan', 2284, 'IM Arrowlimit', 2395, 'e4,d6,d4,Nf6,Nc3,c6,Be3,Qb6,Qd2,Qxb2,Rb1,Qa3,Bc4,Nbd7,Nf3,e6,d5,e5,dxc6,bxc6,Ng5,d5,exd5,Nb6,Bxb6,axb6,dxc6,Bb4,Bxf7+,Ke7,Rb3,Qa5,Bc4,Rd8,Qe3,h6,Nf7,Ng4,Qg3,Rd4,Be2,Kxf7,O-O,Be6,Bxg4,Bxb3,Ne2,Bc4,Nxd4,Bxf1,Qf3+,Kg8,Be6+,Kh8,Nb3,Qa6,c7,Bb5,Qf7,Qxa2,h3,Qb1+,Kh2,Qxc2,Bd5,Rc8,f3,Qxc7,Qg6,e4+,g3,exf3,Be4,Kg8,Qh7+,Kf8,Qh8+,Ke7,Qxg7+,Kd6,Qd4+,Ke7,Qg7+,Ke6,Qg6+,Ke5,Qf5+,Kd6,Qd5+,Ke7,Qxb5,Qc4,Qe5+,Kf7', 'Bd5+,Qxd5,Qxd5+', 'https://lichess.org/training/e6B29');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6CrV', 'Rapid', 'hector823', 1901, 'koni-maier', 1904, 'e4,e6,d4,d5,Nd2,c6,e5,Qb6,Nb3,Nd7,Be3,Ne7,Nf3,Nf5,Bd3,Nxe3,fxe3,h6,c4,Bb4+,Ke2,Be7,c5,Qd8,h4,f5,exf6,Bxf6,Bg6+,Ke7,Nc1,Nf8,Bc2,Bd7,Nd3,Be8,Nde5,Bxe5,Nxe5,Nd7,Nxd7', 'Bh5+,Kd3,Bxd1', 'https://lichess.org/training/E6CrV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6F4l', 'Blitz', 'Sonata2', 2269, 'derwerter', 2050, 'd4,e6,c4,b6,Nc3,Bb7,Nf3,g6,e3,h6,Be2,Bg7,b3,Ne7,Bb2,d6,Qc2,Nd7,O-O-O,O-O,Kb1,c5,g4,a6,h4,cxd4,exd4,d5,g5,h5,Nd2,Nf5,Rhe1,Nxd4,Qd3,dxc4,Nxc4,Nc5,Qg3,b5,Ne3,Nxe2,Nxe2,Qe7,Bxg7,Kxg7,Qe5+,Kg8,Nf4,Rad8,Nf5,gxf5,Nxh5,Rxd1+,Rxd1,f6,Nxf6+,Kf7,g6+,Kg7,h5,Qxf6,h6+,Kxg6,Rg1+,Kxh6', 'Qh2+,Qh4,Qxh4#', 'https://lichess.org/training/e6F4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6gmL', 'Classical', 'TigerSiberian69', 1908, 'Char1ieBrown', 1843, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bg5,Be7,Ng3,h6,Bxf6,Bxf6,Nf3,Nc6,c3,O-O,Bd3,e5,dxe5,Nxe5,Nxe5,Bxe5,O-O,Qh4,Qh5', 'Bxg3,Qxh4,Bxh4', 'https://lichess.org/training/E6gmL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6GMQ', 'Blitz', 'Itaquera12', 1514, 'johnv48', 1514, 'd4,d6,Bf4,e6,e3,b6,Nf3,Bb7,Nbd2,Qe7,Bb5+,Nc6,c3,O-O-O,Qa4,Na5,b4,Bxf3,Nxf3,c6,Bxc6,Nc4,Qxa7,Qxa7,Bb5,Nb2,Ng5,Na4,Bxa4,Qxa4,Nxf7,Nf6,Nxh8,Be7,Nf7,Qc2,Nxd8,Kxd8,O-O,Qxc3,a3,Ke8,Rac1,Qxa3,Rc8+,Kf7,g3,Qxb4,Rfc1,Qa4,Rb8,b5,Rc7,b4,Rbb7,Nd5,Ra7,Qd1+,Kg2,Nxc7,Rxc7,b3,Bxd6,b2,Rxe7+,Kf6,Rb7,b1=Q,Rxb1,Qxb1,Be5+,Kf7,Kf3,g6,h4,Qf5+,Bf4,Kf6,g4,Qd5+,Kg3,h5,g5+,Kf5', 'f3,Qa8,e4+,Qxe4,fxe4+', 'https://lichess.org/training/E6GMQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6iGs', 'Rapid', 'how2checkmate', 1749, 'slaker77', 1814, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nc3,Bf5,Nf3,h6,Bd3,Bxd3,Qxd3,e6,O-O,Bb4,Ne4,Nxe4,Qxe4,c6,a3,Be7,Bf4,Nd7,b4,Bf6,Rad1,Nb6,d5,cxd5,cxd5,Nxd5,Rfe1,O-O,Be5,Rc8,Bxf6,Qxf6,Ne5,Rfd8,Rd3,Rc7,Rf3,Qg5,Nxf7,Rxf7,Qxe6,Rd7', 'Qe8+,Kh7,Rxf7', 'https://lichess.org/training/E6iGs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6KC5', 'Blitz', 'Polotskgas', 1988, 'ehenryindy', 2002, 'd4,Nf6,Bg5,d5,Nc3,h6,Bf4,c6,e3,Nbd7,Be2,e6,g4,Be7,g5,hxg5,Bxg5,Qc7,Qd3,Rxh2,Rxh2,Qxh2,O-O-O,Qxf2,Nh3,Qf5,Rh1,Qxd3,Bxd3,Nf8,Nf4,Bd7,Kb1,O-O-O,a3,c5,Nh5,Nxh5,Bxe7,Re8,Bxf8,Rxf8,Rxh5,c4,Be2,f6,Rh7,g5,Bh5,Rg8,Bf7,Rf8,Bg6,f5,Ne2,f4,exf4,gxf4,Rf7,Rxf7,Bxf7,f3,Ng3,Kd8,Bh5,f2,Bg4,Ke7,Kc1,Kf6,Kd1,Kg5,Be2,Kf4,Nf1,b5,c3,Be8,Kd2,Bg6,Nh2,Kg3,Nf1+,Kg2,Ke3,Bd3,Nd2,f1=Q,Bxf1+,Bxf1,Nxf1,Kxf1,Kf4,Ke1,Ke5,Kd2,Kxe6,Kc2,Kxd5,Kxb2,Kc5,Kxc3,d5,Kb3,d6,c3,d7,c2,Kxb5,c1=Q,d8=Q', 'Qc4+,Ka5,Qa4#', 'https://lichess.org/training/E6KC5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6kKm', 'Blitz', 'sergi1002', 1879, 'Yaroslav_bereg', 1797, 'e4,e5,f4,exf4,Nf3,d6,Bc4,g5,h4,g4,Ng5,Nh6,d4,Qe7,O-O,f6,Bxf4,fxg5,Bxg5,Qg7,Bxh6,Qxh6,Bf7+,Ke7,e5,Be6,exd6+,cxd6,Qe2,Nd7,d5,Bg7,Qxe6+,Qxe6,Bxe6,Bxb2,Rf7+,Ke8,Rxd7,Bxa1,Nd2,Rc8,Ne4,Be5,Nxd6+,Bxd6,Rxd6,Rxc2,Rd7,g3,Kf1,Rf8+,Ke1,Rxg2,d6,Rxa2,Re7+,Kd8,Rxh7,g2,Rd7+,Ke8,Re7+,Kd8,Rd7+,Kc8', 'Rf7+,Kd8,Rxf8#', 'https://lichess.org/training/e6kKm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6l42', 'Blitz', 'prince_adetola', 2023, 'Richardotobinho', 2029, 'd4,Nf6,c4,d5,Nc3,g6,Bg5,Bg7,e3,O-O,Nf3,Bg4,Be2,Bxf3,Bxf3,c6,O-O,Nbd7,Rc1,Nb6,cxd5,Nbxd5,e4,Nb6,e5,Nfd5,Qb3,Qc7,Nxd5,Nxd5,Bxd5,Qa5,Bf3,Rfd8,Rfd1,Rd7,a3,Rad8,e6,Rxd4,exf7+,Kf8,Re1,Qxg5,Qxb7,Kxf7,Qxc6,R8d6,Qc8,Rf6,Rxe7+,Kxe7,Rc7+,Kd6,Qd8+,Ke6,Qxd4,Rxf3,Qd7+,Ke5,Qxg7+,Rf6,Re7+,Kf5,Rc7,Re6,h3', 'Re1+,Kh2,Qf4+,g3,Qxf2#', 'https://lichess.org/training/e6l42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6mKp', 'Blitz', 'nmcclell', 1624, 'Arkhe11', 1597, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,g6,Be3,Bg7,Qd2,e5,Ndb5,Nd4,Nxd4,exd4,Bxd4,Bxd4,Qxd4,Nf6,O-O-O,O-O,Qxd6,Be6,f3,Qa5,Kb1,Rac8,Bd3,Rc6,Qa3,Qg5,Rhg1,a6,Qb4,b5,Rdf1,Rfc8,f4,Qh4,f5,Bc4,fxg6,hxg6,Qe7,Bxd3,cxd3,Qxh2,Rh1,Qxg2,Nd5', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1+,Rxc1,Rxc1#', 'https://lichess.org/training/E6mKp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6nDf', 'Classical', 'AlirezaNasa', 1858, 'PIYOPIYO', 1803, 'd4,Nf6,Nf3,e6,Bf4,c5,e3,Nc6,c3,cxd4,exd4,Qb6,Qb3,d5,Qxb6,axb6,Bb5,Bd7,Ne5,Be7,Nd2,O-O,Nxd7,Nxd7,Nf3,Nf6,Ne5,Nxe5,Bxe5,Ra5,Bd3,Rfa8,a3,b5,h4,b4,cxb4,Bxb4+,Ke2,Be7,h5,h6,f3,b5,b4,Rxa3,Rxa3,Rxa3,g4,Nh7,Rc1,Ng5,Rc8+,Bf8,Bd6,g6,Rxf8+,Kg7,Rd8,gxh5,Be5+,f6,Rd7+,Nf7,Bf4,hxg4,fxg4,Rb3,Bxb5,Rxb4,Bd3,Rxd4,Ke3,Rb4,Bxh6+,Kxh6,Rxf7,Kg5,Rg7+,Kh4,Rg6,Rxg4,Rxf6,e5,Rh6+,Kg3,Be2,Re4+,Kd2,d4,Rg6+,Kf4,Bd3,Re3,Rf6+,Kg3,Rg6+,Kf2,Rf6+,Rf3,Re6,Re3,Rh6,e4,Bc4,Ra3,Rh2+,Kg3,Re2,e3+,Kc2', 'Rc3+,Kd1,Rxc4', 'https://lichess.org/training/e6nDf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6OrA', 'Rapid', 'Hadi1371', 1998, 'Bombist', 2182, 'e4,c5,Bc4,e6,Qe2,a6,a4,b6,Nf3,Bb7,O-O,Qc7,d4,cxd4,Nxd4,d6,Bg5,Nd7,Nd2,Ngf6,f4,e5,fxe5,dxe5,Nf5,h6,Bh4,Bc5+,Kh1,Kf8,Rf3,Be7,Raf1,Qd8,Bd5,Ra7,Qc4,b5,axb5,axb5,Qxb5,Ba6,Qb3,Bxf1,Nxf1,g5,Bf2,Ra1,Bg3,Nxd5,exd5,f6,d6,Bxd6,Nxd6,Qe7,Nf5,Qf7,Qb4+,Kg8,Ne7+,Kg7,Kg1,Rb8,Nf5+,Kh7,Qe4,Qg6,Rd3,Nc5,Qc6,Nxd3', 'Qc7+,Kh8,Qxb8+', 'https://lichess.org/training/e6OrA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6P1A', 'Classical', 'erdogankartal', 2055, 'Aladdin1962', 1966, 'd4,Nf6,Bg5,d5,Bxf6,gxf6,c4,e6,cxd5,Qxd5,Nc3,Qa5,a3,Nd7,e3,c5,Nf3,a6,Bd3,Qc7,O-O,b5,dxc5,Nxc5,Ne4,Nxe4,Bxe4,Bb7,Rc1,Qb6,Bxb7,Qxb7,Nd4,Rd8,Qh5,Rd5,Qf3,Be7,Rc2,O-O,Rfc1,Bd6,Qxf6,Be5,Qf3,Bxd4,exd4,Qb8,Rc5,Rxd4', 'Rg5+,Kh8,Qf6#', 'https://lichess.org/training/E6P1A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6QNM', 'Rapid', 'thiagobcs', 1776, 'ShreyashRocks', 1851, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,dxc6,Qxd8+,Kxd8,Bg5,Ke8,Bxf6,gxf6,O-O-O,f5,exf5,Bxf5,f3,Bd6,Bc4,Bf4+,Kb1,b5,Bd3,Bxd3,Rxd3,Rd8', 'Re1+,Kf8,Rxd8+', 'https://lichess.org/training/e6QNM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6r0F', 'Rapid', 'MorphyAgain', 1995, 'rektum', 1621, 'e4,e5,Nf3,f6,d4,exd4,Bc4,Bc5,c3,d6,O-O,Bd7,Qb3,Ne7,Bf7+,Kf8,Bh5,g6,Bh6+,Ke8,Bg7,Rg8,Bxf6,gxh5,Bxe7,Kxe7,cxd4,Bb6,e5,Bh3,exd6+,cxd6,Re1+,Kd7,Qf7+,Kc8,Rc1+,Bc7', 'Rxc7+,Qxc7,Qxg8+', 'https://lichess.org/training/E6r0F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6r0u', 'Rapid', 'varadarajv', 2015, 'papic38', 2115, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,g6,Be3,Bg7,Be2,d6,O-O,Nf6,f4,Bd7,f5,O-O,fxg6,hxg6,Qd2,Ne5,Bh6,Rc8,Bxg7,Kxg7,Rf4,b5,Rh4,Rh8,Rf4,b4,Nd5,Nxd5,exd5,Bf5,Nxf5+,gxf5,Rxf5,Kf8,Raf1,f6,Bxa6,Qb6+,Qf2,Qxa6,Rxf6+,Ke8,Rf8+,Rxf8,Qxf8+,Kd7,Qf5+,Kc7,Qe6,Re8,Re1,Qb6+,Kh1,Qf2,Rg1,Qf7,Qh3,Qxd5,c3,bxc3,Qxc3+,Kd8,Rc1,Qb7,Qa5+,Kd7,Qa4+,Nc6,Qg4+,Kd8,h3,Qd7,Qc4,Ne5,Qa6,e6,Qb6+,Ke7,Rc7,Rc8,Rxd7+,Nxd7,Qf2,d5,Qh4+,Kd6,b4,Rc4,Qg3+,Ne5,a3,d4,h4,d3,Qe3,Rxh4+,Kg1,Rc4,b5,Kd5,b6,Re4,Qd2,Re2,Qa5+,Kd4,Qb4+,Nc4,b7,d2,Qxc4+', 'Kxc4,b8=Q,d1=Q+', 'https://lichess.org/training/e6r0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6rnR', 'Blitz', 'AGOSU', 2128, 'LilMunax', 2128, 'c4,Nf6,Nc3,Nc6,d4,e6,e4,d5,e5,Ne4,Nxe4,dxe4,Ne2,Bb4+,Bd2,O-O,a3,Bxd2+,Qxd2,f5,exf6,Qxf6,O-O-O,Qxf2,d5,exd5,Qxd5+,Kh8,Ng3,e3,Bd3,Bg4,Rdf1,Qd2+,Kb1,Rxf1+,Rxf1,Rd8', 'Qxd8+,Nxd8,Rf8#', 'https://lichess.org/training/E6rnR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6rob', 'Rapid', 'AlecHyne', 1956, 'mouhamedloussif414', 1664, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,Nbd7,Be3,Qa5,Bd2,Qc5,Be3,Qb4,Qd2,e6,Bd3,Ne5,O-O,Bd7,f4,Nc6,Nxc6,Bxc6,b3,Nd7,Ne2,Qxd2,Bxd2,Nc5,Nd4,Rc8,Nxc6,Nxd3,cxd3,Rxc6,Rac1,h5,Rxc6,bxc6,Rc1,c5,b4,cxb4,Bxb4,Kd7,Bc3,h4,Rb1,h3,Rb7+,Ke8,g3,f6,Ra7,d5,Rxa6,Ke7,Bb4+,Kd7,Ra8', 'Bc5+,Bxc5,Rxa8', 'https://lichess.org/training/e6rob');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6T1j', 'Blitz', 'CM MasterTol', 2362, 'ajedrezinvencible1', 2335, 'd4,g6,c4,Bg7,Nf3,d6,g3,Nd7,Bg2,e5,O-O,Ne7,Nc3,O-O,dxe5,Nxe5,Nxe5,Bxe5,Bh6,Bg7,Bxg7,Kxg7,Qd4+,Kg8,e4,Nc6,Qd2,Be6,b3,Qd7,Rfe1,Rae8,Rad1,Kg7,f4,f6,e5,fxe5,fxe5,Bg4,Bxc6,bxc6,Qd4,c5,Qd5,Bf3,e6,Qe7,Qd2,Bxd1', 'Nd5,Qxe6,Rxe6', 'https://lichess.org/training/E6T1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6tSq', 'Rapid', 'valmasia3', 1967, 'hustonion', 1725, 'e4,e5,f4,exf4,Nf3,g5,Bc4,Qe7,d4,Nc6,c3,Qxe4+,Kf2,Be7,Nxg5,Bxg5,Re1,Bh4+,g3,fxg3+,hxg3,Nf6,gxh4,d5,Bxd5,Ng4+,Qxg4', 'Qxe1+,Kxe1,Bxg4', 'https://lichess.org/training/E6tSq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6vgh', 'Blitz', 'raimuceleng', 1961, 'boxtensor', 1914, 'e4,c5,Nf3,g6,Nc3,Bg7,d4,cxd4,Nxd4,Nc6,Nf3,d6,Bc4,Nf6,h4,Bg4,h5,Bxh5,Rxh5,Nxh5,Bxf7+,Kxf7,Ng5+,Kg8', 'Qd5+,e6,Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/e6vgh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E6VWM', 'Rapid', 'Jantimman234', 1894, 'mdchess', 1898, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,g6,Bg5,Bg7,Nf3,O-O,O-O,Nc6,Rb1,Ng4,h3,Nge5,Nxe5,Nxe5,Be2,Qa5,Nd5,e6,b4,Qxa2,Nc7,Rb8,Be7,Nc6,Bxf8,Kxf8,Qxd6+,Kg8,Bd3', 'Be5,Qc5,Bxc7', 'https://lichess.org/training/E6VWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6wRf', 'Rapid', 'FrereKeiser', 1715, 'alexmar3007', 1607, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bc4,Be7,Bg5,O-O,O-O-O,Re8,e5,dxe5,Qxe5,Bd7,Rhe1,Ng4,Bxe7,Nxe5,Bxd8,Raxd8,Bb3,b5,Nd5,c5,Nc7,Re7,Nxb5,Rde8,Nd6,Rd8,Nf5,Ree8,Nd6,Re7,f4,Bg4,Rd2', 'Nd3+,Rxd3,Rxe1+', 'https://lichess.org/training/e6wRf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e6YJF', 'Rapid', 'Ichigo-Kuro', 1846, 'accessorius', 1814, 'd4,d5,Bf4,Bf5,e3,Nf6,Nf3,e6,Bd3,Bxd3,Qxd3,Nc6,Qb5,Rb8,Ne5,a6,Nxc6,axb5,Nxd8,Rxd8,Bxc7,Rc8,Be5,Rxc2,O-O,Rxb2,Nc3,Rc2,Nxb5,Nd7,Nd6+,Bxd6,Bxd6,Nf6,Rac1,Rxc1,Rxc1,Kd7,Bc5,Rc8,Rb1,Rc7,Rb6,Ne4,f3,Nxc5,dxc5,Kc8,e4,dxe4,fxe4,Rxc5,a4,Rc4,a5,Rxe4,a6,bxa6,Rxa6,Rc4,Ra8+,Kd7,Rh8,h6,Rh7,Rg4,h3,Rg5,Kh2,Ke7,g4,e5,Kg3,f5,Kf3,fxg4+,hxg4,e4+,Kxe4,Rxg4+,Kf5,Rg5+,Kf4,Kf6,Rh8,Rf5+,Kg4,Kg6,Ra8,h5+,Kh4,Rf4+,Kg3,Rg4+,Kh3,Rf4,Ra6+,Rf6,Ra3,Kh6,Ra5,g5,Ra8,h4,Kg4,Rf4+,Kh3,Kg6,Rg8+,Kf5,Rf8+,Ke4,Re8+,Kf3,Ra8,Re4,Ra3+,Kf4,Kg2,Re3,Ra4+,Kf5,Kf2,h3', 'Kxe3,h2,Ra1', 'https://lichess.org/training/e6YJF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e720v', 'Rapid', 'andersongmarque', 1583, 'Hoyo22', 1552, 'e4,e5,d4,d6,Nf3,Bg4,dxe5,dxe5,Qxd8+,Kxd8,Be2,Nc6,O-O,f6,Na3,Nd4', 'Nxd4,Bxe2,Nxe2,Bxa3,bxa3', 'https://lichess.org/training/e720v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e73a1', 'Rapid', 'Euvgen', 1769, 'Guliyev288', 1820, 'd4,e6,Nf3,d5,e3,c5,b3,cxd4,exd4,Nc6,Bd3,Nf6,O-O,Be7,h3,O-O,Nc3,Nb4,Ne2,Nxd3,Qxd3,b6,Bg5,h6,Bxf6,Bxf6,Ng3,a5,Rfe1,Ba6,Qe3,Be7,Ne5,Bd6,Nh5,Qc7,Qg3,g5,Nf6+,Kg7,Qf3,Qxc2,Nh5+,Kh7,Qf6,Bxe5,dxe5,Qg6,Qf3,Rac8,g4,b5,Rac1,b4,Qe3,Bd3,f4,gxf4,Nxf4,Rxc1,Nxg6,Rxe1+,Qxe1,Kxg6,Qe3,Be4,Qc5,Ra8,Kf2,h5,gxh5+,Kxh5,Kg3,Bf5,h4,Kg6,Kf4,Bb1', 'Qg1+,Kh6,Qxb1', 'https://lichess.org/training/e73a1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e75uf', 'Rapid', 'Perovius', 1752, 'Levorver25', 1876, 'd4,Nc6,Nf3,d6,c4,g6,d5,Ne5,Nxe5,dxe5,e4,e6,Nc3,Nf6,Bg5,Bc5,Bd3,h6,Bh4,g5,Bg3,Bd4,f3,Nh5,Qc2,Nxg3,hxg3,g4,O-O-O,Bd7,f4,c6,Rh4,exd5,exd5,exf4,dxc6,bxc6,Be2,fxg3,Rxd4,Qxh4,Qe4+,Qe7,Bxg4,Qxe4,Rxe4+,Kd8', 'Rd4,f5,Bxf5', 'https://lichess.org/training/e75uf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E7aml', 'Rapid', 'Chessinpol', 1992, 'knightHawke', 2006, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c4,dxc4,Bxc4,e6,O-O,Nf6,Nc3,Nb4,Qa4+,Bd7,Bb5,Nbd5,Nxd5,Nxd5,Bxd7+,Qxd7,Qxd7+,Kxd7,Ne5+,Ke8,a3,Bd6,f4,Ke7,Bd2,Rhc8,Rac1,Rc7,g3,Rac8,Kf2,Rxc1,Rxc1,Rxc1,Bxc1,a6,Bd2,g6,Kf3,h5,h4,Nb6,Ke3,Nd7,Nxd7,Kxd7,b4,b5,Ke4,Kc6,Kf3,Kd5,Be3,f5,Ke2,Ke4,Bf2,Bb8,Kd2,Ba7,d5,Bxf2', 'dxe6,Bxg3,e7', 'https://lichess.org/training/E7aml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e7ANn', 'Classical', 'EderLapo', 1740, 'TBland', 1838, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bd3,Nf6,Bg5,Bb4,Bxf6,Bxc3+,bxc3,Qxc3+,Ke2,gxf6,Nf3,Nc6,Re1,Nd4+,Nxd4,Qxd4,Kf1,Rg8,Qf3,Rb8,e5,fxe5,Rad1,b5,Bxh7,Qc4+,Bd3,Qg4,Qxg4,Rxg4,Rxe5,Bb7,f3,Ra4,Rb1,Rxa2,h4,Ra4,Rg5,Ke7,Rh5,Bd5,Kf2,Bc4,Be4,f5,Bd3,Rc8,Rh7+,Kd6,Rd1,Bxd3,Rxd3+,Ke5,Rhxd7,Rxc2+,Kg3,Rcc4,h5,Rh4,Rh7,Kf6,Rh6+,Kg5,Rxe6,f4+,Kf2,Ra2+,Kg1,Rxh5,Rd5+,Kh4,g3+,Kxg3,Rxh5', 'Ra1+,Re1,Rxe1#', 'https://lichess.org/training/e7ANn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e7AXD', 'Rapid', 'JaJo72', 1805, 'aarth34', 1811, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bc5,h3,a6,Bxc6,bxc6,Nxe5,O-O,d3,Re8,Nf3,d6,Bg5,h6,Bh4,Re6,d4,Bb4,e5,Qe8,O-O,dxe5,dxe5,Nd7,Qd4,c5,Qe4,Rb8,Nd5,Bb7,c3,Bxd5,Qxd5,Ba5,Rad1,Nxe5,Nxe5,Rxe5,Qd3,Rxb2,Qxa6,Bxc3,Rd8,Bd4,Rxe8+,Rxe8,Qc6,Ree2,Qxc7,g5,Bg3,Kg7,a4,Kg6,a5,Ra2,Qc6+,f6,a6,h5,h4,gxh4,Bxh4,Kf5,Bg3,Kg4,Qd7+,f5,a7,h4,Qb7,hxg3,Qf3+,Kg5,a8=Q,Bxf2+,Rxf2,gxf2+,Kf1', 'Re1#', 'https://lichess.org/training/e7AXD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e7dSE', 'Classical', 'ajay_patel', 1622, 'BvAR2', 1630, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nf3,Be7,Bc4,h6,O-O,a6,Re1,Nf6,Bf4,O-O,e5,dxe5,Nxe5,Nc6,Ng6,Re8,Nc3,Bf5,Nh4,Bh7,Qf3,Bxc2,Qg3,g5,Nf3,Kf8,Be3,Bd6,Qh3,Kg7,Nxg5,hxg5,Bxg5,Rh8,Qf3,Nd4,Qxb7,Rb8', 'Qxf7#', 'https://lichess.org/training/e7dSE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e7FCs', 'Classical', 'nevias', 1711, 'Yuri_Queiroz', 1673, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Bd3,O-O,h4,h6,Be3,Bg4,Qd2,Bxf3,gxf3,Nc6,O-O-O,Ne5,Be2,Bxh4,Bxh6,gxh6,Qxh6,Qg5+,Qxg5+,Bxg5+,Kb1,Bf4,Bd3,Nxd3', 'Rdg1+,Bg5,Rxg5#', 'https://lichess.org/training/e7FCs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E7hh2', 'Rapid', 'poigraem1', 1528, 'soturi1', 1530, 'd4,Nf6,h3,d5,e3,c5,Bb5+,Nc6,dxc5,Bf5,Nd2,Qa5,Bxc6+,bxc6,c3,Ne4,Nb3,Qb5,g4,Bg6,a4,Qc4,Na5,Qxc5,Nb7,Qb6,Qd4,Qxb7,Nf3,f6,Ke2,e5,Qd1,Qa6+,Ke1,Bc5,Nh4,Bf7,Nf5,O-O,h4,Rad8,g5,fxg5,hxg5,Nxg5,Qg4,h6,Nxh6+,gxh6,Rxh6,Be7,e4,Qc8,Qg2,Rd6', 'Bxg5,Rg6,Rxg6+,Bxg6,Bxe7', 'https://lichess.org/training/E7hh2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e7iz7', 'Blitz', 'kialirus7', 1850, 'kelapa', 1856, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bd3,Ng6,Bg5,Be7,Bxe7,Qxe7,O-O,O-O,Na3,a6,Nc2,b5,Ne3,Bb7,Rc1,Nf4,Bb1,Rac8,g3,Nh3+,Kg2,Ng5,Nxg5,Qxg5,Qd3,g6,h4,Qe7,Ng4,b4,Nf6+,Kg7,Rh1,cxd4,cxd4,a5,h5,b3,a3,a4,Qxg6+,fxg6,hxg6,h6,Rxh6,Kxh6', 'Rh1+,Kg5,f4#', 'https://lichess.org/training/e7iz7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e7Lep', 'Rapid', 'Rillym33n', 1808, 'anotsogoodplayer', 1851, 'b4,c6,Bb2,d5,e3,e6,Nf3,Nf6,a3,g6,Be2,Bg7,O-O,O-O,c4,a5,b5,cxb5,cxb5,Bd7,a4,b6,Nc3,Ne4,Rc1,Be8,d3,Nd6,Qc2,Nd7,Rfd1,Rc8,Qb3,Nf5,e4,d4,Na2,Rxc1,Rxc1,Ne7,Bxd4,Bxd4,Nxd4,e5,Nc6,Nxc6,bxc6,Nc5,Qd5,Qc7,d4,exd4,Qxd4', 'Nb3,Qc3,Nxc1', 'https://lichess.org/training/e7Lep');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E7LMt', 'Rapid', 'xcatskills', 1885, 'shuhratrax', 1774, 'd4,d5,c4,dxc4,Nc3,Nf6,Nf3,Nc6,Bg5,e6,e4,Be7,Bxc4,h6,Bf4,O-O,Nb5,Bd6,Nxd6,cxd6,e5,dxe5,Bxe5,Nxe5,dxe5,Qxd1+,Rxd1,Nd7,Bb5,Rd8,O-O,a6,Ba4,b5,Bb3,Ra7,Rd2,Kf8,Rfd1,Ke7,Bc2,Bb7,a4,b4,b3,Bd5,Re1,Raa8,Nd4,Rac8,f4,Rc3,f5,exf5,Nxf5+,Kf8,Nd4,Re8,Rf1,Nxe5,Rdf2,f6,h3,Rd8,Rf5,Kf7,Rxe5,Bxg2,Kxg2,Rxd4,Rf2', 'Rxc2,Rxc2,fxe5', 'https://lichess.org/training/E7LMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e7tX0', 'Classical', 'artem31', 1730, 'seejeys_youtube', 1605, 'b4,c5,bxc5,e6,d4,b6,cxb6,Qxb6,c3,Nc6,Qb3,Nb4,cxb4,Bxb4+,Bd2,Qxd4,Nf3', 'Bxd2+,Nfxd2,Qxa1', 'https://lichess.org/training/e7tX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E7UhO', 'Rapid', 'PapGomby06', 2051, 'kentt777', 2037, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nge7,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,d6,Bc4,Ne5,Bb3,N7c6,O-O-O,a5,h4,Nxd4,Bxd4,c5,Bxe5,Bxe5,h5,Qf6,hxg6', 'Bf4,Bxf7+,Rxf7', 'https://lichess.org/training/E7UhO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E7UQz', 'Rapid', 'konstans337', 1982, 'firoozhadii', 1807, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,c5,d3,Nc6,Nf3,Nf6,O-O,Be7,Re1,O-O,Bg5,a6,Nc3,Be6,a3,b5,Ne2,h6,Bh4,a5,Nf4,c4,Nxe6,fxe6,dxc4,bxc4,Ba4,Qc8,Bxc6,Qxc6,Ne5,Qb6,Ng6,Rfe8,Nxe7+,Rxe7,Bxf6,gxf6,Qg4+,Kh7,Re2,Rg8,Qf3,Qxb2,Rae1,f5,c3,Qb6,Re5,Rg6,Rxf5,Reg7,Rfe5,Rxg2+,Kh1,Rxf2,Qh3,Rfg2,Qxg2,Rxg2,Kxg2,Qb2+,R1e2,Qxc3,Rxe6,Qg7+,Kf3,Qf7+,Kg3,Qc7+,Kf3,Qc8,Kf4,c3,Re7+,Kg6,R7e6+,Kh5', 'R2e5+,Kh4,Rxh6#', 'https://lichess.org/training/E7UQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E7wr1', 'Rapid', 'shaollin45', 1628, 'Lilykeo', 1625, 'e4,e6,Bc4,d5,exd5,exd5,b3,dxc4,bxc4,Be6,d3,Bb4+,c3,Ba5,Qa4+,Nc6,d4,Bd7,d5,Qe7+,Be3,Bb6,dxc6,Bxc6,Qc2,Bxe3,fxe3,Qxe3+,Ne2,O-O-O,Rf1,Bxg2,Rf2,Bf3,Na3,Re8,Nb5,Bxe2,Rxe2,Qg1+,Kd2,Rd8+,Nd4,Qg5+,Kd1,c5,Rb1,cxd4,Qb3,dxc3+,Kc2,Rd2+,Kxc3,Rxe2', 'Qxb7+,Kd8,Rd1+,Rd2,Rxd2+,Qxd2+,Kxd2', 'https://lichess.org/training/E7wr1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e7Ww8', 'Classical', 'hicham79', 1675, 'CFszachista', 1637, 'e4,c5,Bc4,Nc6,Qf3,Ne5,Qe2,Nf6,d3,g6,Bf4,d6,h3,Bg7,Qe3,O-O,Bxe5,dxe5,Qxc5,Bh6,Qxe5,Bg7,Nc3,Nh5,Qd5,Qc7,Qg5,Bf6,Qe3,Qa5,Ne2,Qb4,Rb1,b5,Bxb5,Rb8,a3,Qa5,Bc4,Rxb2,Rxb2', 'Bxc3+,Nxc3,Qxc3+,Qd2,Qxb2', 'https://lichess.org/training/e7Ww8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E81Ag', 'Classical', 'mpendulO16', 1784, 'Konadios', 1765, 'e4,Nf6,e5,Nd5,c4,Nb6,Qf3,d6,Nc3,dxe5,d3,Nc6,Nd5,e6,Nxb6,axb6,Be3,Nb4,O-O-O,Nxa2+,Kd2,Nb4,Ke2,Ra2,Rd2,Nc6,Nh3,Bb4,Rc2,Nd4+,Bxd4,Qxd4,Ng5,O-O,Qe4,Rxb2', 'Qxh7#', 'https://lichess.org/training/E81Ag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E82Ba', 'Rapid', 'edize-com', 1951, 'juanf8156', 1885, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,cxd4,Bxc6+,bxc6,cxd4,c5,Nf3,cxd4,Qxd4,Ne7,O-O,Ng6,b3,Be7,Ba3,O-O,Bxe7,Qxe7,Nc3,Ba6,Rfe1,Rfc8,Ne2,Qc5,Qxc5,Rxc5,Ned4,Rac8,g3,Kf8,Kg2,Bb7,Ng5,h6,Ngf3,Ke7,h4,Kd7,h5,Ne7,Nh4,Nc6,Nxc6,R8xc6,f4,Rc2+,Kh3,Rb2,Rg1,Rcc2,Rg2,d4,Rxc2,Rxc2,Rd1,Rxa2,Rxd4+,Ke7,b4,Bd5,f5,Re2,fxe6,Kxe6,Rg4,Rxe5,Rxg7,Rxh5,Rg8,a6,Rb8,Bc4,Rb6+,Ke7,Kg4,Rb5,Rxa6', 'Rg5+,Kf4,Bxa6', 'https://lichess.org/training/E82Ba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E82zx', 'Classical', 'Albertjames2020', 1831, 'lionking15', 1817, 'd4,d5,Bf4,c5,e3,cxd4,exd4,Nc6,Nf3,g6,Nc3,Bg7,Qd2,a6,O-O-O,h5,Bd3,Bg4,Be2,Nf6,Ne5,Bxe2,Qxe2,Rc8,Rhe1,e6,Nxg6,fxg6,Qxe6+,Ne7,Bd6,Rc7,Bxc7,Qxc7,Nxd5,Nxd5,Qxd5,Qd7,Qg5', 'Bh6,Qxh6,Rxh6', 'https://lichess.org/training/E82zx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e87uM', 'Rapid', 'maruuo', 1952, 'Kennedy_Mayor', 1966, 'Nf3,d5,d4,e6,c4,Nf6,Nc3,c6,e3,Nbd7,Bd3,Be7,O-O,O-O,Qc2,b6,b3,Bb7,a4,a5,Ba3,Rc8,Qb2,Ba6,Rfd1,h6,Ne2,Bb4,Bxb4,axb4,Qd2,Qe7,Ng3,c5,a5,b5,cxb5,c4,bxa6,cxd3,Rdc1,Qd6,Qxd3,Ra8,Qb5,Rxa6,Ne5,Rb8,Qd3,Nxe5', 'dxe5,Qxe5,Qxa6', 'https://lichess.org/training/e87uM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e8aH2', 'Rapid', 'Bulbulu', 1720, 'Turkish_Delight', 1765, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Ne7,O-O,c6,d4,Ng6,dxe5,Nxe5,Re1,Bd6,Qg4+,Ke7,Qxg7+,Ke6,f4,Qf6,Qxf6+,Kxf6,fxe5+,Bxe5,Ne4+,Kg7,Ng5,Bf6,Ne6+,Bxe6,Rxe6,Rhe8,Rxe8,Rxe8,Kf2,b5,Bxd5,cxd5,Be3,a5,c3,b4,Re1,bxc3,bxc3,Bxc3,Bh6+,Kf7,Re3', 'Bd4,Kf3,Bxe3', 'https://lichess.org/training/e8aH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e8B5w', 'Rapid', 'classic_chess', 1928, 'sathish9999', 1991, 'd4,e6,Bf4,c5,e3,Qb6,Na3,d5,Nb5,Na6,Nf3,Bd7,a4,cxd4,exd4,Nf6,Bd3,Be7,O-O,O-O,Ne5,Nb4,Be2,Rac8,c3,Nc6,Nxd7,Nxd7,Nd6,Bxd6,Bxd6,Rfe8,Rb1,Nxd4,Qxd4,Qxd6,Bd3,b6,Qh4,h6,Rfe1,e5,Bf5,e4,Rbd1,Rc4,Rxe4,Rexe4,Bxe4,Nf6,f3,Qc5+,Kh1,dxe4,Rd8+,Kh7,Qf4,exf3,Qxf3,Qc7', 'Qf5+,g6,Qxf6,Qxd8,Qxd8', 'https://lichess.org/training/e8B5w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E8GQw', 'Rapid', 'Andkit', 1772, 'Artystoteles', 1860, 'c4,c5,d3,g6,e3,Bg7,Nc3,Nc6,Bd2,e6,Nf3,Nge7,e4,d5,exd5,exd5,cxd5,Nxd5,Nxd5,Qxd5,Be2,O-O,O-O,Nd4,Nxd4,Qxd4,Bc3,Qd5,Bf3,Qd7,Bxg7,Kxg7,Qd2,Rb8,Qc3+,Kg8,Qxc5,b6,Qe5,Ba6,Rfd1,Rbd8,d4,Qb5,Qf6,Qxb2,a4,Be2,Bxe2,Qxe2,Re1,Qb2,Red1,Rd7,Rab1,Qa3,Ra1,Qb4,Ra2,Rfd8,Rad2,Qxa4,d5,Rxd5,Rxd5', 'Qxd1+,Rxd1,Rxd1#', 'https://lichess.org/training/E8GQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e8gT2', 'Rapid', 'kijek', 2182, 'Ja45', 2106, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Be2,Bg4,h3,Bh5,O-O,O-O,Be3,Nd7,Qd2,Rc8,c4,Bb8,Rfd1,Re8,Rac1,Qc7,d5,Bxf3,Bxf3,Qh2+,Kf1,Ne5,d6,Nxf3,gxf3,Qxh3+,Ke2,Rcd8,c5,Qe6,b4,b6,a3,bxc5,bxc5,f5,Qd4,f6,Rc2,Qe5,Qc4+,Kh8,f4,Qe4,Qb3,g5,Qb2,Kg7,Rg1,g4,Rcc1,Bxd6,cxd6,Rxd6,Qc2', 'Qf3+,Kf1,Rxe3,Rg3,Qh1+', 'https://lichess.org/training/e8gT2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e8hxJ', 'Classical', 'Fandhor', 1726, 'mxklawz', 1722, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Bb4+,Bd2,Be7,f4,Nc6,Nf3,Nh6,Bd3,Nb4,Bxb4,Bxb4+,Nc3,Ng4,Qa4+,Bd7,Qxb4,Ne3,Ke2,Nxg2,Rhg1,Nxf4+,Kd2,a5,Qb3,a4,Qc2,Nxd3,Qxd3,O-O,Rg2,f5,Rag1,g6,h4,a3,b3,Qe8,h5,Ra5,hxg6,h6,Rh1,Kg7,b4,Bb5,Nxb5,Rxb5,Qxa3,Qe7,Rb1,Rb6,Qc3,Rc6,Qd3,Ra8,Rb2,Rc4,b5,Ra3,Rb3', 'Rxa2+,Kd1,Rxg2', 'https://lichess.org/training/e8hxJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e8J66', 'Rapid', 'cremant', 1794, 'sokaim', 1717, 'd4,g6,e4,Bg7,Nf3,d5,e5,Bg4,h3,Bxf3,Qxf3,c6,c4,Nd7,cxd5,cxd5,Qxd5,Rc8,Nc3,f6,Bc4,Rxc4,Qxc4,fxe5,dxe5,Bxe5,O-O,Ngf6,Be3,Bxc3,Qxc3,O-O,Qb3+,Rf7,Qxb7,Ne5,Qxa7,Nc4,Rfd1,Qe8,Qc7,Nd6,Rac1,Nfe4,Rc2,Kg7,Bd4+,e5,Qb6,exd4,Qxd4+,Kh6,f3,Rf4,Qe3,g5,Rxd6+,Nxd6,Qxe8,Nxe8,b3,Ng7,a4,Nf5,a5,Rb4,Rb2,Nd4,a6,Nb5,Ra2,Na7,Ra3,Kg6,Kf2,h5,Ke3,Kf6,Kd3,Ke6,Kc3,Rb6,b4', 'Nb5+,Kb3,Nxa3,a7,Ra6', 'https://lichess.org/training/e8J66');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e8PIe', 'Classical', 'mizzau', 1829, 'Gabriel_Benjamin21', 1717, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,c3,b5,Bb3,d6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Bg4,Bd5,Qd7,Qc3,Nge7,Bxc6,Nxc6,d5,Ne7,h3,Bh5,Qxg7,O-O-O,Qc3,Rdg8,g4,Bg6,Nbd2,h5,O-O-O,hxg4,hxg4,Qxg4', 'Rxh8,Rxh8,Qxh8+', 'https://lichess.org/training/e8PIe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E8qwj', 'Blitz', 'cinot', 1825, 'salem281', 1804, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Bxf4,Ng4,d4,Be7,O-O,d6,Bb3,O-O,c3,Kh8,Qd2,f5,exf5,Bxf5,h3,Nf6,Ng5,d5,Na3,Ne4,Nxe4,Bxe4,Rae1,Bxa3,bxa3,Qh4,Ba4,Ne7,Bd7,Nf5,Bxf5,Rxf5,Be3,Raf8,Rxf5,Rxf5,Rf1,Rxf1+,Kxf1,Qf6+,Kg1,h6,Qf2,Qd6,Qb2,b6,Qd2,Qxa3,Bf4,c5,Be5,cxd4', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/E8qwj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E8r2C', 'Blitz', 'moneras', 1851, 'Vict16', 1870, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,e6,O-O,a6,a3,g6,f5,Bg7,fxg6,hxg6,d3,Nd4,Ng5,Nf6,c3,Nc6,d4,cxd4,cxd4,Na5,Ba2,Qb6,e5,dxe5,Be3,O-O,Qf3,Qxb2,Nd2,Nc6,Rfb1,Qxa3,Bxe6,Qd3,Rb3,Qc2,Bxc8,Raxc8,d5,Nd4,Bxd4,exd4,Nf1,d3,Rxd3,Nxd5,Rad1,Nb4,R3d2,Qc5+,Qe3,Qxe3+,Nxe3,a5,Rd7,b5,h4,Rce8,Ng4,Nc2,h5,gxh5,Nf2,Ne3,Rb1,b4,Rb3,Nc4,Rh3,Re1+,Kh2,Ne5,Rd5,Ng4+,Nxg4,hxg4,Rh4,Bf6,Rxg4,Bxg5', 'Rdxg5+,Kh7,Rh4#', 'https://lichess.org/training/E8r2C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e8S6G', 'Rapid', 'jogler', 2096, 'mo9758', 2010, 'c4,c5,g3,Nf6,Bg2,g6,Nc3,Bg7,d3,d6,e4,O-O,Nge2,Nc6,O-O,Bd7,h3,Qc8,Kh2,Ne5,f4,Nc6,Be3,a6,Rc1,Ne8,Nd5,Qd8,d4,Nxd4,Nxd4,e6,Nc3,cxd4,Bxd4,Bc6,Bxg7,Nxg7,Qd4,Qe7,Rfd1,Rad8,b4,e5,Qe3,exf4,gxf4,Qh4,Nd5,f5,e5,dxe5,fxe5,f4,Qc3,Bxd5,cxd5,f3,Bxf3,Qf2+,Bg2,Qf4+,Kg1,Nf5,e6,Ne3,e7', 'Qf2+,Kh2,Qxg2#', 'https://lichess.org/training/e8S6G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E8t4k', 'Blitz', 'achillle', 1842, 'susan_80', 1781, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Nc6,exd6,Bxd6,Be2,Bxf3,Bxf3,Qe7,O-O,O-O-O,Be3,Bxh2+,Kxh2,Rxd1,Rxd1,Ne5,Be2,Nf6,Nc3,Nfg4+,Kg3,Nxe3,fxe3,h5,Nd5,Qg5+,Kf2,Ng4+,Kg1,Nxe3,Bf3,Nxd5,Rxd5,Qe3+,Kh1,h4,Rad1,h3', 'Bg4+,f5,Bxf5+,Kb8,Rd8+,Rxd8,Rxd8#', 'https://lichess.org/training/E8t4k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e8tb9', 'Blitz', 'IM LeonValdes', 2479, 'Zayats71', 2624, 'd4,d5,Nf3,c5,g3,cxd4,Bg2,Qa5+,Qd2,Qxd2+,Nbxd2,Nc6,Nb3,e5,O-O,f6,Rd1,Be6,Bd2,O-O-O,Rac1,Kb8,c3,dxc3,Rxc3,Bb4', 'Rxc6,bxc6,Bxb4', 'https://lichess.org/training/e8tb9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E8tEx', 'Rapid', 'novoatual09', 2014, 'SandwichMaster', 1912, 'e4,c5,Nf3,e6,c3,d5,exd5,Qxd5,Bb5+,Nc6,O-O,Nf6,Re1,Be7,Ba4,O-O,d3,a6,Bb3,Qd7,Bf4,b5,Bc2,Bb7,Nbd2,Rfd8,Ne4,Nd5,Bg3,Rac8,Nfg5,Bxg5,Nxg5,Nce7', 'Qh5,Nf5,Qxh7+', 'https://lichess.org/training/E8tEx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E8tTf', 'Blitz', 'Sierra29', 2104, 'Mike01chess', 2037, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,a6,Be3,b5,Bb3,Bb7,Bc2,Nbd7,Qd2,Rc8,Bh6,Qc7,Rac1,Qa5,Bb1,b4,Ne2,Rxc1,Rxc1,Rc8,Rxc8+,Bxc8,Bxg7,Kxg7,Ng3,Qc7,h3,a5,Nh4,Ba6,Qg5,Nf8,e5,dxe5,dxe5,Nd5,Ngf5+,Kh8,Nh6,Kg7,N4f5+,Kh8,Nxf7+,Kg8,e6,Nxe6,N5h6+,Kg7,Qd2,Qc4,Bc2,Ndf4,Qe1,Qxc2', 'Qe5+,Kf8,Qh8#', 'https://lichess.org/training/E8tTf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e8xJn', 'Rapid', 'Petronela', 1766, 'Kunalkasana', 1778, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,Be3,a6,a4,e5,Nf3,Nc6,Qd2,Qc7,Nd5,Nxd5,Bxd5,O-O,O-O,Ne7,Ba2,Bg4,Rfd1,Rad8,Ne1,Bxd1,Rxd1,Qc6,Qb4,b5,Bg5,Rd7,axb5,Qxb5,Qxb5,axb5,Bxe7,Rxe7,Rxd6,Rb8,b4,Rc7,Bb3,Bf8,Rd5,Bxb4,Kf1,Bxe1,Kxe1,Re7,Ke2,Kg7,f3,Kf6,h4,h6,Rd6+,Kg7,g4,Ra8,Rd5,Rb8,Kd3,Ree8,Kc3,b4+,Kb2,Re7,Kc1,Rb6,Kd2,Rbb7,Ke3,f6,Rd8,Rbc7,Rg8+,Kh7,Rb8,Rb7,Rd8,Red7,Rc8,Rbc7,Rf8,Rc3+,Kf2,Rdc7,Rxf6,Rxc2+,Bxc2,Rxc2+,Ke1,b3,Rf7+', 'Kg8,Rb7,b2', 'https://lichess.org/training/e8xJn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E8yax', 'Blitz', 'Igoryasha76', 1723, 'Agorel', 1803, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,f3,Nc6,Qd2,Bd7,O-O-O,Ne5,f4,Neg4,h3,Nxe3,Qxe3,Rc8,g4,a6,h4,b5,h5,b4,Nd5,Qa5,Nxe7+,Kh8,Nxc8,Rxc8,Kb1,Nxg4,Bxg4,Bxg4,hxg6,fxg6,Rdg1,Bh5,Ne6,Qa4,b3,Qc6,Qd3,Bf6,Rg2,a5,Rgh2,a4,bxa4,Qxa4,f5,Rc3,Qxd6,Qxa2+,Kxa2', 'Ra3+,Kb1,Ra1#', 'https://lichess.org/training/E8yax');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e90Vm', 'Classical', 'ma1ah', 2020, 'Chess_legend_rus', 2180, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,Bg4,Qb3,Qd7,Nd2,e6,Ngf3,Bxf3,Nxf3,Bd6,Bg3,O-O,O-O,Bxg3,fxg3,Qc7,Rae1,Na5,Qc2,Rab8,Ng5,h6,Bh7+,Kh8,Rxf6,gxf6,Bg8,f5,Qe2,Rxg8,Qh5,Rg6,g4,Qe7,Nf3,fxg4,Ne5,Kg7,Nxg6,fxg6', 'Qe5+,Kh7,Qxb8', 'https://lichess.org/training/e90Vm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e96xr', 'Classical', 'Jovema', 1679, 'kaustubhwagh', 1685, 'd4,e5,dxe5,Nc6,Nf3,Qe7,e3,Nxe5,Bd3,Nf6,h3,d6,O-O,Nxd3,cxd3,g6,Nc3,Bg7,Rb1,O-O,e4,Be6,Re1,Rad8,d4,d5,Qd3,dxe4,Nxe4,Bd5,Nfg5,Nxe4,Nxe4,Bxe4,Rxe4,Qb4,Bd2,Qb6,Bc3,c5,d5,Bxc3,bxc3,Qd6,c4,Rfe8,f3,Re6,Rd1,Rxe4,fxe4,Qe5,Rb1,b6,Rf1,Rd6,Qa3,Qd4+,Kh1,Qxc4,Qf3,f6', 'e5,Rxd5,Qxf6,Qxf1+,Qxf1', 'https://lichess.org/training/e96xr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E9Hr0', 'Rapid', 'chessnode', 1797, 'KrosnopolskiUSSR', 1774, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,dxc6,Qxd8+,Kxd8,Bc4,e6,O-O,Bg7,c3,b5,Bd3,Kc7,Be3,Bf8,Nd2,Bd6,Nb3,Ne7,Nc5,Rd8,Be2,Bxc5,Bxc5,Ng8,b4,a5,a3,axb4,axb4,Bb7,e5,Rxa1,Rxa1,Rd2,Kf1,f6,f4,fxe5,fxe5,Nh6,Rd1,Rc2,Rd6,Bc8,Bf3,Bd7,Rd3,Nf7,Bd6+,Nxd6,exd6+,Kb6,Be2,c5,bxc5+,Kxc5,Kf2,e5,Ke3,Ra2,Bf3,Ra7,Ke4', 'Bf5+,Ke3,Bxd3', 'https://lichess.org/training/E9Hr0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e9hT9', 'Rapid', 'Hpteste', 1903, 'pokemom', 1790, 'd4,d5,e3,e6,c4,c6,Nc3,Bd6,Bd2,Nf6,cxd5,cxd5,Nf3,a6,a3,Nbd7,Be2,e5,dxe5,Nxe5,Nxe5,Bxe5,Qb3,b5,a4,O-O,axb5,Rb8,O-O,axb5,Nxb5,Bd7,Qa4,Qe8,Bb4,Bxb5,Bxb5,Qxb5,Qxb5,Rxb5,Bxf8,Kxf8,Ra8+,Ke7,Ra7+,Ke6,f4,Bd6,f5+,Ke5,Rxf7,Rxb2,Rxg7,Bc5,Kh1,Bxe3,g4,Bf4', 'Re7+,Kd4,Rxf4+', 'https://lichess.org/training/e9hT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E9ijs', 'Rapid', 'toxicrazy', 1764, 'shikantaza', 1691, 'e4,e5,Nf3,d6,Bc4,h6,d3,Nf6,Nc3,c6,a3,Be7,Be3,O-O,h3,Be6,Bxe6,fxe6,Qd2,g5,g4,Nh7,h4,Rxf3,hxg5,Bxg5,O-O-O,Bxe3,fxe3,Qg5,Rde1,Nd7,Nd1,Raf8,Qg2,d5,exd5,exd5,Rh5,Qg6,Reh1,Ndf6,Rxh6,Qxg4', 'Rg6+,Qxg6,Qxg6+', 'https://lichess.org/training/E9ijs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e9LKc', 'Rapid', 'Nwab', 2047, 'mi_gbc', 1952, 'f4,d6,Nf3,c5,g3,Nc6,Bg2,g6,O-O,Bg7,d3,Bg4,e4,Nd4,c3,Nxf3+,Bxf3,Bxf3,Qxf3,Qc7,f5,Nf6,Na3,h6,fxg6,fxg6,Bf4,g5,Be3,O-O-O,d4,Rhf8,dxc5,dxc5,b4,Nd7,Qg4,Kb8,Nb5,Qc6,a4,a6,Rxf8,Rxf8,Na3,cxb4,Nc2,Bxc3,Rc1,Ne5,Qe2,Nf3+,Kg2,Qxe4', 'Ba7+,Kxa7,Qxe4', 'https://lichess.org/training/e9LKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e9MRb', 'Rapid', 'bediy', 1734, 'Drticka', 1770, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,f4,Qxg2,Bxf7+,Ke7,Rf1,Qxe4+,Kf2,Qxf4+,Kg1,Qxe5,Re1,Qxe1+,Qxe1+,Kxf7,Qf2+,Nf6,Qxd4,b6,Qc4+,d5,Qxc7+,Bd7,d4,Rc8,Qxa7,Rxc2,Nc3,Kg6,Nxd5,Bc6,Nxf6,gxf6,Bf4,Bg7,Qxb6,Be4,Re1,Bf5,Re3,Rhc8,Rg3+,Kh5,Rxg7,Re8,Bg3,Ree2,Qxf6', 'Rc1+,Be1,Rcxe1#', 'https://lichess.org/training/e9MRb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E9Q7w', 'Classical', 'LuisCarlosHC', 1633, 'NotAHuman', 1634, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Nc6,d4,Nf6,Nf3,Bg4,h3,Bh5,Nc3,Ne4,Nxe4,dxe4,g4,exf3,gxh5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/E9Q7w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e9QHU', 'Bullet', 'shabanov1961', 1930, 'EvaCaroline-Milton', 1924, 'e4,e5,d4,exd4,Nf3,Nf6,c3,Nxe4,Qxd4,Nf6,Bg5,Be7,Bc4,O-O,O-O,Nc6,Qh4,d5,Bd3,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/e9QHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E9qVf', 'Rapid', 'Mohit99', 1607, 'Gosha87', 1668, 'e4,e5,Nf3,d6,d4,Bg4,Be2,Bxf3,Bxf3,Nc6,c3,Be7,O-O,Nf6,b4,a6,d5,Nb8,Nd2,b5,a4,bxa4,Rxa4,O-O,Nc4,c6,Be3,c5,bxc5,dxc5,Nxe5,Bd6,Nc4,Nbd7,Nxd6,Qc7,Nc4,Qd8,e5,Ne8,d6,g5,Bxa8,Qxa8,Bxg5,Ng7,Bh6,Qe4,Bxg7,Kxg7,Qg4+,Qxg4,f3,Qf4,Re1,Qf5,Rxa6,Rg8,Nb6,Nxe5,d7,Nxf3+,gxf3,Qxf3,Re8,Qd1+,Kf2,Qd2+,Kf3,Qd3+,Kf4,Qxa6', 'Rxg8+,Kxg8,d8=Q+', 'https://lichess.org/training/E9qVf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('e9Tex', 'Rapid', 'Jicky_Dandles', 1645, 'ehi1', 1672, 'd4,d5,Bf4,e6,e3,Bd6,Bxd6,Qxd6,Nf3,h6,Bd3,Nf6,Qe2,Nc6,e4,Qb4+,c3,Qa5,e5,Ne4,Bxe4,dxe4,Qxe4,Qb6,Qc2,O-O,O-O,Ne7,Nbd2,c5,b3,cxd4,Nxd4,Bd7,N2f3,Rac8,Ne2,Bb5,c4,Rfd8,Rad1,Rxd1,Rxd1,Ba6,Qd3,Nc6,Qd7', 'Rd8,Qxd8+,Nxd8', 'https://lichess.org/training/e9Tex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('E9vLC', 'Rapid', 'nashronelbarbasy', 1999, 'chessnik_1337', 1963, 'f4,e6,e4,d5,e5,Nc6,Nf3,Bc5,d4,Bb6,c3,Nge7,Bd3,Ng6,O-O,O-O,Kh1,Nce7,Na3,a6,Ng5,h6,Nf3,c5,Bb1,cxd4,cxd4,f5,exf6,Rxf6,Qd3,Qf8,g3,Ba7,Nc2,b5,Ne3,Nf5,Ng4,Rf7,Nfe5,Nxe5,Nxe5,Rf6,g4,Bxd4,gxf5,Bxe5,fxe6,Bxe6,Qh7+,Kf7,Bg6+,Ke7,b3,Bxa1', 'Ba3+,Kd7,Bxf8', 'https://lichess.org/training/E9vLC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eA1nV', 'Blitz', 'GM JseMartinez', 2723, 'Czar1999', 2172, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,c3,Bd7,O-O,g5,d4,g4,Ne1,h5,f4,exd4,cxd4,Bg7,e5,b5,Bb3,Nge7,d5,Na5,e6,fxe6,dxe6,Bc6,Bc2,O-O,h3,Nf5,Bxf5,Rxf5,hxg4,hxg4,Qxg4,Qf6,Nf3,Qxe6', 'Nd4,Qf6,Nxf5', 'https://lichess.org/training/eA1nV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eA1se', 'Rapid', 'AlexandreH', 1678, 'frigianf', 1688, 'e4,d6,d4,e6,Nc3,a6,g3,b6,Bg2,Be7,Nge2,c5,O-O,Bb7,Be3,Nd7,h3,Rb8,g4,Ngf6,Ng3,cxd4,Bxd4,e5,Be3,h6,a4,O-O,h4,Nh7,Nf5,Bxh4,Nxd6,Bg5,Bxg5,Nxg5,Nxb7,Rxb7,Nd5,Nc5,Qe2,Rb8,Rad1,a5,b3,Qe8,Ne3,Ncxe4,Bxe4,Nxe4,Qf3,Ng5,Qd5,e4,Nf5,Nf3+,Kg2,Kh7,Nd6,Qe7,Nxe4,Nh4+,Kh3,Nf3', 'Qf5+,Kg8,Qxf3', 'https://lichess.org/training/eA1se');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ea2hg', 'Blitz', 'jefergo', 1573, 'Split-Second', 1640, 'e4,d6,Nc3,e5,Bc4,Nf6,d3,c6,Bg5,Be7,h3,h6,Bh4,O-O,Nf3,a5,a4,Nbd7,O-O,Re8,Qd2,Nf8,Ne2,Ng6,Ng3,Nf4,Nf5,Bxf5,exf5,d5,Bb3,N6h5,Bxe7,Qxe7,g4,Nxh3+,Kh2,N5f4,Rfe1,f6,Nh4,Ng5,Qe3,Qd6,c4,Kh7,cxd5,cxd5,Rac1,Rac8,Nf3,Nxf3+,Qxf3,Qd7,d4,Qd6,dxe5,fxe5,Qg3,Rxc1,Rxc1,Rd8,Qh4,Nd3,Rc3,e4+,Kg2,Nxb2,Rc2,Nd3,g5,Qf4', 'g6+,Kh8,Qxd8#', 'https://lichess.org/training/ea2hg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eA2sA', 'Rapid', 'MohammedHassanin30', 2135, 'trancaxo', 2059, 'e4,c5,Nf3,d6,d4,cxd4,Bc4,Nf6,c3,dxc3,Nxc3,Nc6,Qb3,e6,Bg5,Be7,O-O,O-O,Qc2,a6,Bd3,Nb4,Qd2,Nxd3,Qxd3,Qc7,Rac1,Qb8,Rfe1,Rd8,Rcd1,h6,Bf4,b5,Qe3,Bb7,e5,Ng4,Qe2,Bxf3,Qxf3,Nxe5,Qg3,Ng6,Bxh6,gxh6,Rxe6,Bg5,h4,Nxh4', 'Rxh6,Ng6,Qxg5', 'https://lichess.org/training/eA2sA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ea3s8', 'Blitz', 'qocaqartal', 2330, 'IM lokiy47', 2262, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bc5,Be3,O-O,Nxc6,bxc6,Bxc5,Nxc5,Bxc6,Rb8,Qxd5,Qg5,O-O,Ne6,f4,Nxf4,Qf3,Ng6,Nc3,Nxe5,Qd5,Be6,Qe4,Nxc6,Qxc6,Rxb2,Ne4,Qg6,Rae1,Rxa2,Qxc7,Bf5,Ng3,Bxc2,Rf2,Qb6', 'Qxf7+,Rxf7,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/ea3s8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eA5ze', 'Blitz', 'Ivan-X', 1817, 'La5ker', 1814, 'e4,c6,Nf3,d5,d4,dxe4,Ne5,Bf5,Nc3,e6,f3,exf3,gxf3,Bd6,Bf4,Ne7,Qd2,O-O,O-O-O,Bb4,Qe3,Bxc3,Qxc3,Nd7,Nc4,Nd5,Qd2,Qf6,Bd6,Rfe8,Ne5,Nxe5,Bxe5,Qe7,c4,Nb6,c5,Nd5,Bd6,Qf6,Bd3,Bxd3,Qxd3,Nf4,Qf1,Qf5,Rg1,Ng6,Qg2,Kh8,Rde1,Rg8,Be5,Nxe5,Rxe5,Qd3,Rh5,Qxd4', 'Rxh7+,Kxh7,Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/eA5ze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ea8K3', 'Rapid', 'KingHunt858', 1651, 'chittilla_Sumedh', 1610, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,a5,Bf4,e5,Bxe5,Nd7,Bf4,Bd6,Bxd6,cxd6,Nf3,Ne7,Bd3,O-O,O-O,Nf6,Ne4,Ned5,c4,Nb4,Nxf6+,Qxf6,Be4,d5,cxd5,Bf5,Re1,Bxe4,Rxe4,Nxd5,Re5,Rfd8,Qb3,Qc6,Rae1,a4,Qd3,f6,Re6', 'Nf4,Qf5,Nxe6', 'https://lichess.org/training/ea8K3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EA9sJ', 'Rapid', 'hamama_refik', 1829, 'putrabongomeme', 1829, 'd4,Nf6,Bf4,d6,h3,g6,Nf3,Bg7,e3,O-O,c3,a6,Bd3,Nc6,Nbd2,Nd5,Bg3,Re8,Bh4,Qd7,Qe2,e5,dxe5,Nxe5,Nxe5,Rxe5,Nc4,Nf4', 'Nxe5,Nxg2+,Kf1', 'https://lichess.org/training/EA9sJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EaCBG', 'Rapid', 'DrMark-NYC', 1915, 'leosotomexico', 1910, 'e4,c5,Nf3,e6,d3,h6,g3,Nc6,Bg2,e5,O-O,Nf6,Re1,Be7,c3,O-O,Nbd2,Rb8,a4,b5,axb5,Rxb5,Qa4', 'Ra5,Qxa5,Nxa5', 'https://lichess.org/training/EaCBG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EAd17', 'Rapid', 'Erfan_Chess', 1924, 'Generalisimus', 1682, 'd4,d5,Nf3,Nf6,e3,Bf5,Nbd2,Nbd7,Ne5,Be4,f3,Bf5,g4,Bg6,h4,h5,Nxg6,fxg6,Bd3,Kf7,g5,Ng8,f4,Nb8,Nf3,Nc6,O-O,a5,Ne5+,Nxe5,fxe5+,Ke6,Bxg6,Kd7,Bf5+,e6,Bg6,Kc8,Rf7,Ne7,Bxh5,Qd7,Qf3,Qe8,g6,Nf5,Bg4,Nxh4,Bxe6+,Kb8,Qg4,Ra6,Bxd5', 'Rxg6,Qxg6,Nxg6', 'https://lichess.org/training/EAd17');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eAdhl', 'Rapid', 'shahryar_baba', 1663, 'Negazuy', 1603, 'd4,d5,c4,Nf6,Nf3,Bg4,e3,e6,Nc3,Nc6,Bd3,Bb4,a3,Bxc3+,bxc3,Ne4,Bxe4,dxe4,d5,Ne5,h3,exf3,hxg4,fxg2,Rg1,Nxc4', 'Qa4+,Qd7,Qxc4', 'https://lichess.org/training/eAdhl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EaDq7', 'Classical', 'brave73', 2024, 'Daler666', 2088, 'e4,c5,c3,d5,exd5,Qxd5,d4,cxd4,cxd4,Nc6,Nf3,e5,Nc3,Bb4,Nxe5,Nxe5,dxe5,Qxe5+,Qe2,Qxe2+,Bxe2,Bxc3+,bxc3,Nf6,Ba3,Bd7,O-O-O,O-O-O,Be7,Rde8,Bxf6,Rxe2,Bxg7,Rg8,Bd4,Rxa2,g3,Bc6,Rhe1,Bf3,Rd3,Bh5,Kb1,Ra6,Kb2,Rd8,Rde3,Bg6,f3,Bf5,g4,Be6,h3,Ra2+,Kb1,Rh2,f4,Rd5,f5,Rb5+,Kc1,Ba2,Re8+,Kd7,R1e7+,Kc6,Rc8+', 'Kd6,Bc5+,Rxc5', 'https://lichess.org/training/EaDq7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EaeG0', 'Blitz', 'IM GreenNight', 2652, 'digraph', 2251, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,c6,Bf4,Bf5,Bd3,Bg6,Ne5,e6,Ne2,Nbd7,Nxd7,Qxd7,c3,Nd5,Bg3,Bd6,O-O,Bxg3,Nxg3,O-O-O,Ne4,Bxe4,Bxe4,Nf6,Bf3,h5,h4,Nd5,Qa4,Kb8,Rfe1,Nb6,Qa5,Qc7,Qe5,Qxe5,Rxe5,g6,Re2,Rd7,Rae1,Rhd8,g3,Kc7,Kg2,Nc4,Rc2,Nd6,Re5,Nf5,Be4,Ng7,Bd3,Ne8,Rce2,Ng7,Bc2,Rd5,Bb3,Rxe5,Rxe5,Ne8,Re3,Nf6', 'Rf3,Kd7,Rxf6', 'https://lichess.org/training/EaeG0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eaepj', 'Rapid', 'viktor1959', 2178, 'Lasse_S', 2111, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bb5,Bd6,O-O,Ne7,c4,dxc4,d5,Nxd5,Qe2+,Ne7,Qxc4,Be6,Qc3,O-O,Bg5,Qc8,Nbd2,a6,Bd3,Ng6,Rac1,Qd7,Rfd1,Nce5,Bb1,h6,Bh4,Nxh4,Nxh4,Qa4,Nhf3,Nxf3+,Nxf3,Bxa2,Bc2,Qf4,b3,g5,Qd3,f5,g3,Qe4,Qc3,Qe2,Nd4,Qg4,f3,Qh3,Ne6,Rf7,Rxd6,cxd6,Bd3,Qh5,Bc4,Kh7,Ra1,Bxb3,Bxb3,Re7,Qf6,Rae8,Qxf5+,Qg6,Qxg6+,Kxg6,Nd4,Re3,Kf2,Rd3', 'Bc2,Kf6,Bxd3', 'https://lichess.org/training/eaepj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EaeRo', 'Rapid', 'Pupilo', 1829, 'matuino', 1720, 'd4,c6,Nf3,d5,Nc3,Nd7,Bf4,e6,g4,Ngf6,Bh3,Nb6,Ne5,Bd6,g5,Nh5,Nxf7,Kxf7,Bxd6,Qxd6,Bg4,Nf4,e3,Ng6,Qf3+,Ke7,O-O-O,e5,Bh5,e4,Qg2,Rf8,a3,Nh4,Qg1,g6,Be2,Nf3,Qg2,Rf7,Kb1,Nc4,Bxc4,dxc4,h4,b5,d5,Bb7,Nxe4,Qe5,Nf6,Rxf6,gxf6+,Qxf6,d6+,Kd7,h5,c5,Qh3+,Qf5,hxg6,Qxh3,Rxh3,hxg6,Rh7+,Kc6,Rg7,g5,d7,Rd8,Rf7,Ne5,Rf5,Nxd7,Rxg5,Rf8,f4,Kc7,Rdd5,a5,Rdf5,b4,axb4,Rxf5,Rxf5,axb4,Rf7,Kd6,c3,b3,Kc1,Be4,Kd2,Nb6,Rf6+,Kc7,Re6,Bd3,Re5,Kd6,e4,Na4,Kc1,Nb6,Re8,Nd7,f5,Nf6', 'Re6+,Kd7,Rxf6', 'https://lichess.org/training/EaeRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EAGjs', 'Rapid', 'a_b_p', 1632, 'SolaLupus', 1633, 'e4,e5,Bc4,Nc6,d3,Nf6,Bg5,Be7,Nf3,h6,Bh4,g5,Bg3,a6,Nxe5,Nxe5,Bxe5,b5,Bb3,Bb7,a3,c5,Bxf6,Bxf6,c3,O-O,O-O,Rc8,f4,c4,Bc2,d5,fxg5,Bxg5,d4,dxe4,Bxe4,Bxe4,Nd2,Bd3,Rf3,Qd5,Rg3,f6,Qh5,Kh7,Nf3,Be2', 'Nxg5+,fxg5,Qxe2', 'https://lichess.org/training/EAGjs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eai3V', 'Rapid', 'viktor1959', 2276, 'molodoy1775', 2170, 'c4,c5,Nc3,b6,e4,Bb7,g3,h5,h4,Nf6,Bg2,Ng4,d3,e6,f3,Ne5,Bf4,Nbc6,Nge2,Be7,a3,a6,Rb1,Rc8,Qd2,d6,b4,Nd4,Nxd4,cxd4,Ne2,Ng6,Nxd4,e5,Nf5,exf4,Nxg7+,Kf8,Nf5,fxg3,Rh3,Nxh4,Nxg3,b5,cxb5,axb5,Kf1,Rg8,Qh6+,Ke8,Rxh4,Rxg3,Rxh5,Rc2,Rh2,Qb6,Qh8+,Kd7', 'Bh3+,Rxh3,Qxh3+,Kc7,Rxc2+', 'https://lichess.org/training/eai3V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eAIhl', 'Classical', 'youngmurphy', 1662, 'xkv', 1837, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,c3,b5,Bd3,Nxd5,cxd4,Qxg5,Bxb5+,Bd7,Bxd7+,Kxd7,Qf3,e4,Qxe4', 'Re8,Qxe8+,Kxe8', 'https://lichess.org/training/eAIhl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eaj1X', 'Rapid', 'colgones2', 1833, 'SergiobigK', 1760, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,d4,exd4,cxd4,Nge7,O-O,g6,Nc3,Bg7,Bg5,O-O,Re1,a6,Bc4,Qc8,d5,Na5,Bxe7,Nxc4,Bxf8,Qxf8,Qc2,Ne5,Nxe5,Bxe5,Rf1,Qh6,h3,Qg5,f4,Bxf4,Qf2', 'Be3,Kh1,Bxf2', 'https://lichess.org/training/Eaj1X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EAJab', 'Rapid', 'FeherTamas', 2028, 'Solyi', 1937, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Nf6,Nc3,Nxd5,Nf3,e6,d4,Nc6,Bd3,Nf6,Be3,Be7,O-O,a6,a3,b5,Re1,Bb7,Rc1,Rc8,Bb1,O-O,Bg5,h6,Bh4,Na5,Ne5,Nc4,Bxf6,Bxf6,Qd3,g6,Nxg6,fxg6', 'Qxg6+,Bg7,Qh7+', 'https://lichess.org/training/EAJab');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EajbS', 'Classical', 'shadalbe', 1838, 'vishalvishnoi', 1772, 'e4,c5,Nc3,e6,f4,a6,Nf3,Nc6,Bc4,b5,Be2,c4,d4,Bb4,Bd2,Nge7,O-O,Bb7,a3,Ba5,Kh1,Bb6,Be3,O-O,Qe1,Qc7,Qh4,Ng6,Qg4,f5,Qg3,fxe4,Ng5,Nxd4,Qh3,h6,Bh5,Nxf4,Bxf4,Rxf4,Rxf4,Qxf4,Nf7,Rf8,Nxh6+,gxh6,Qg3+,Qxg3,hxg3,Nxc2,Rd1,d5,a4,Ne3,Ra1,b4,Ne2,b3,Nf4,Bc8,Kh2,Kh7,a5,Bc7,Re1,Bxf4,gxf4,Nc2,Rf1,e3,g3,e5,Be2,exf4,gxf4,Kg6,Kg2,Nd4,Re1,Rxf4,Kg3,Rf2,Bd1,e2,Kxf2,exd1=Q,Rxd1,Nc2,Rxd5,h5,Rc5,c3,Rxc3,h4,Kg2,Bd7,Rxb3,Bb5,Kh3,Nd4,Re3,Kg5,Re5+,Nf5', 'Rxb5,axb5,a6,Ne3,a7', 'https://lichess.org/training/EajbS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eAJPu', 'Rapid', 'Ahmadyadgari', 1854, 'Galourus', 1724, 'e4,c5,b3,e6,Bb2,a6,Nf3,d6,Be2,b5,O-O,Bb7,d3,Nc6,e5,Qc7,exd6,Qxd6,Nbd2,Nd4,Nxd4,cxd4,Bf3,Bxf3,Nxf3,e5,Re1,f6,Nxd4,Qc5,Nf5,Ne7,Nxe7,Bxe7,d4,exd4,Bxd4,Qd5,Bxf6', 'Qxd1,Raxd1,gxf6', 'https://lichess.org/training/eAJPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EaKAm', 'Blitz', 'WFM szefru', 2054, 'Thisisausername140', 1808, 'c4,e6,Nc3,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,e4,Bb4,Bd3,d5,exd5,exd5,cxd5,Nxd5,Ne2,O-O,O-O,Nxc3,Nxc3,Bxc3,bxc3,Be6,Bb2,Qb6,Rb1,Qa5,a3,Rfd8,Qf3', 'Ne5,Bxh7+,Kxh7', 'https://lichess.org/training/EaKAm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eAklp', 'Rapid', 'NetoSales', 1764, 'evdomos', 1748, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nh3,h6,Nc3,Nd7,g4,c5,Be3,c4,Qf1,Bb4,Bd2,Qb6,a3,Be7,O-O-O,Qa6,Be3,b5,Rg1,b4,Nb1,bxa3,Nxa3,Rb8,g5,Bxa3,bxa3,Qa5,g6,Kf8,gxf7,c3,fxg8=Q+,Rxg8,Rd3', 'Qxa3+,Kd1,Rb1+,Ke2,Rxf1', 'https://lichess.org/training/eAklp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EakvZ', 'Rapid', 'idiooooot', 1651, 'RuStr', 1769, 'e4,d6,d4,Nf6,Nc3,e6,f4,h6,Nf3,a6,e5,Nfd7,Bd3,Nc6,O-O,Be7,Ne4,O-O,c3,b5,Bc2,f5,exf6,Bxf6,Qd3,Ne7,Nxf6+,Nxf6,g4,Nxg4,Qh7+,Kf7,Nh4,Rh8,Qd3,Nf5,Nxf5,exf5,Qf3,Be6,d5,Bd7,b3,Qh4,h3,Nf6,Bb2,Rae8,c4,Ne4,Rae1,Nd2,Qc3,Rxe1', 'Qxg7+,Ke8,Qxh8+', 'https://lichess.org/training/EakvZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eAlPY', 'Rapid', 'Gawlik', 1691, 'VanLihue', 1679, 'e4,c5,Nf3,Nf6,Nc3,a6,Bc4,Nc6,d4,b5,Bxf7+,Kxf7,e5,cxd4,exf6,dxc3,fxg7,Bxg7,Ng5+,Ke8', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/eAlPY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eANAY', 'Classical', 'alex_dudorov', 1800, 'anmad110', 1749, 'e4,c5,Nf3,d6,Nc3,Nc6,Bc4,Nf6,d4,cxd4,Nxd4,Nxd4,Qxd4,e5,Bb5+,Bd7,Bxd7+,Qxd7,Qd3,Be7,Bg5,O-O,O-O-O,h6,Bxf6,Bxf6,Qxd6,Qg4,g3,Qf3,Qd2,Bg5,Qxg5,hxg5,Rhf1,Rfd8,Nd5,Qxe4,Rfe1,Qg2,Rxe5,Qxf2,Rxg5,Rd7,Rd2,Qf1+,Rd1,Qa6,a3,Qe6,h4,Rad8,c4,Qe2,Nf6+,Kf8,Nxd7+,Ke8', 'Re5+,Qxe5,Nxe5', 'https://lichess.org/training/eANAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EANFy', 'Classical', 'sreejithnair', 1687, 'afishylutra', 1638, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bd6,O-O,O-O,Be3,Ng4,h3,Nxe3,fxe3,a6,Ba4,b5,Bb3,Bb7,c3,Bc5,d4,Bb6,Re1,d6,Nbd2,Ne7,Ng5,Ng6,Nxf7,Rxf7,Nf3,Bxe4,Rf1,d5,Nd2,Kh8,Rxf7,Bxg2,Kxg2,Qg5+,Kh2,Qxe3,Bxd5,Nf4,Qg1', 'Qxh3#', 'https://lichess.org/training/EANFy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EAnKw', 'Rapid', 'emveeayy', 1733, 'mnistic', 1703, 'Nf3,Nc6,g3,e5,d3,d5,Bg2,Nf6,O-O,Bd6,Bg5,h6,Bxf6,Qxf6,Nc3,e4,Nxd5,Qxb2,dxe4,O-O,Qd2,Ne5,Rfb1,Qa3,Rb3,Qa4,Nxe5,Bxe5,c3,Kh8,f4,Bd6,e5,Bc5+,Kh1,Be6,Nxc7', 'Bxb3,Nxa8,Rxa8', 'https://lichess.org/training/EAnKw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eANqr', 'Rapid', 'RobbyR', 2105, 'doimo', 2140, 'd4,e6,Nf3,Ne7,c4,d5,e3,c5,dxc5,Na6,cxd5,Nxc5,Nc3,Nxd5,Nxd5,Qxd5,Qxd5,exd5,Bb5+,Ke7,O-O,Be6,b3,Rc8,Ba3,Kf6,Bb2+,Kg6,Ne5+,Kf5,g4+,Kf6,f4,Ke7,Rac1,a6,Ba3,axb5,Bxc5+,Ke8,Bxf8,Rxf8,f5,Bd7,Rxc8+,Bxc8,Rc1,Ke7,Rc7+,Kf6,Nxf7,Rxf7', 'g5+,Ke5,Rxf7', 'https://lichess.org/training/eANqr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eAnW2', 'Classical', 'MamounAlzayed', 1784, 'Pvsaraf', 1776, 'e4,c5,Bc4,d6,d3,e6,Nf3,Nc6,c3,Nf6,a3,a6,Bg5,Be7,Nbd2,O-O,O-O,b5,Ba2,Bb7,Re1,d5,exd5,Nxd5,Bxd5,Qxd5,Bxe7,Nxe7,Ne4,Rad8,Qc2,Nf5,Rad1,c4,dxc4,Qxc4,Rxd8,Rxd8,Nfd2,Qd5,f3,Nd6,h3,Nxe4,Nxe4,Qd3', 'Qxd3,Rxd3,Nc5,Rd2,Nxb7', 'https://lichess.org/training/eAnW2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EAOcw', 'Rapid', 'vesseli', 1816, 'Svetoslav1957', 1827, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be2,Nf6,Nc3,Bb4,f3,d5,O-O,Bc5,Be3,dxe4,Bb5,Qb6,Bxc6+,bxc6,Na4,Qa5,Nxc5,Qxc5,Nf5,Qd5,Nxg7+,Ke7,fxe4,Qxd1,Raxd1,Nxe4,Nh5,f5,Bd4,Rg8,Be5,c5,Ng3,Bb7,Nxe4,Bxe4,Rf2,Rad8,Rfd2', 'Rxg2+,Rxg2,Rxd1+', 'https://lichess.org/training/EAOcw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eApV4', 'Rapid', 'MI_anggihpurnama', 2143, 'iamvoltaire', 2197, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,dxe5,Nxe5,c6,Bc4,Nd7,O-O,Nxe5,dxe5,Bf5,Bb3,e6,Qe2,Qh4,Bxd5,exd5,Re1,Bc5,c3,O-O,Be3,Bxe3,Qxe3,f6,Nd2,fxe5,Qxe5,Bg4,Qg3,Qxg3,hxg3,Rfe8,f3,Bf5,g4,Bd3,Kf2,Kf7,Nb3,b6,Rad1,Bc2,Rd2,Rxe1,Kxe1,Re8+,Kf2,Bxb3,axb3,a5,c4,Ke6,Re2+,Kd7,Rd2,Kd6,cxd5,cxd5,Rd4,Rc8,Rd2,Rc1,Ke3,Kc5,Kf4,Re1,g5,Re7,g4,d4,Rd3,Re3', 'Rxe3,dxe3,Kxe3', 'https://lichess.org/training/eApV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eaQVq', 'Blitz', 'guray123_c', 1830, 'Musa_Sadikhov', 2196, 'd4,Nf6,c4,c5,d5,e5,Nc3,d6,e4,Be7,Bd3,a6,a4,O-O,Nge2,Nbd7,O-O,Ne8,f4,exf4,Nxf4,Ne5,Bb1,Nxc4,Ba2,Ne5,Nd3,Bf6,Nxe5,Bxe5,Bf4,Qe7,Bxe5,Qxe5,Bb1,f5,exf5,Bxf5,Bxf5,Rxf5,Ra3,Rxf1+,Qxf1,Nf6,Ne2,Nxd5,Rg3,Rf8,Qd1,Ne3,Qb3+,c4,Qxe3,Qxb2,Qe6+,Kh8,h3,c3,Qe7,Rg8,Nf4,c2', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/eaQVq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Earnv', 'Blitz', 'Safely', 1831, 'Manuek', 1879, 'e4,e5,Nf3,d6,Bc4,Be7,c3,Nf6,Qe2,O-O,d4,exd4,cxd4,Nc6,h3,Nd7,Nc3,Bf6,Be3,Na5,Bd3,Nc6,h4,Re8,e5,dxe5,Bxh7+,Kh8,dxe5,Ndxe5,Ng5,Qe7,Qh5,g6,Bxg6+,Kg8,Qh7+,Kf8,Ne6+,Bxe6', 'Bh6+,Bg7,Qxg7#', 'https://lichess.org/training/Earnv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EATBi', 'Blitz', 'jackal_dota', 1578, 'I_come_in_peace', 1913, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bd3,Nf6,Nf3,Bb4,Bd2,O-O,O-O,d6,a3,Bc5,Rb1,Nbd7,Bg5,h6,Bh4,b6,h3,b5,Ne2,Bb7,Ng3,g5,Nxg5,hxg5,Bxg5,Nh7,Bh6,Ne5,Nh5,Qe7,Kh1,Kh8,f4,Ng6,Qg4,Rg8,e5,Nxe5', 'Bg7+,Rxg7,Qxg7#', 'https://lichess.org/training/EATBi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eAtmr', 'Rapid', 'Detefon', 1866, 'ViktorKr', 1859, 'd4,g6,h4,Bg7,h5,d5,h6,Bf6,Nc3,e6,e4,dxe4,d5,Bxc3+,bxc3,Qxd5,Bb2,Ne7,c4,Qxd1+,Rxd1,Rg8,Nh3,Bd7,Ng5,Nbc6,Nxh7,O-O-O,Nf6,e5,Nxg8,Rxg8,f4,f6,fxe5,fxe5,Be2,Rh8,g4,g5,Rh5,Ng6,h7,Nf4,Rxg5,Rxh7,Rg8+,Nd8,g5,Nxe2,Kxe2,Bg4+,Kd2,Bxd1,Kxd1,Re7,Ke2,Kd7,Ke3,Ne6,Kxe4,Nc5+,Kd5,b6,Rg6,e4,Bc1,e3,Bxe3,Rxe3,Rg7+,Kc8,g6,Kb7,Rh7,Rg3,g7,Nd7,Ke6,Kc6,Ke7,Re3+,Kf7,Rf3+,Ke7,Nf6', 'Rh6,Kc5,Rxf6', 'https://lichess.org/training/eAtmr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EAtO5', 'Rapid', 'santoku9', 1634, 'Miki1979', 1633, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,h6,O-O,Nf6,fxe5,dxe5,Nc3,Ng4,d4,Bb4,Nd5,Be6,c3,Ba5,b4,Bb6,Nxb6,axb6,Bxe6,fxe6,d5,exd5,exd5,Ne7,Re1,Ng6,Qd4,Qd6,Qxg4,O-O,c4,Rf6,Bb2,Re8,Re4,Qxb4,Bxe5,Nxe5,Nxe5,Qc3,Rae1,Rff8,Qh5,Rf6,Qh3,Qb4,Nd7', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/EAtO5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EAV7z', 'Blitz', 'Kinul__Zigu', 2523, 'FM yesaiedo', 2570, 'd4,e5,c3,Nc6,h3,Nf6,dxe5,Nxe5,Bf4,Ng6,Bh2,d5,e3,Bc5,Nd2,O-O,Ngf3,Re8,Be2,Ne4,Nxe4,Rxe4,O-O,c6,Re1,Be6,Nd4,Bd7,Bd3,Rh4,Nf5,Bxf5,Bxf5,Qf6,Qf3,Ne5,Bxe5,Qxe5,Bc2,Re8,Qf5,Qe7,Rad1,g6,Qf3,Qe5,g4,Bd6,Qg2,h5,f4,Qe6,f5,Qf6,fxg6,fxg6,Rf1,Qg5,gxh5,Qxg2+,Kxg2,Rxh5,Rf6,Rg5+,Kh1', 'Rxe3,Rxg6+,Rxg6', 'https://lichess.org/training/EAV7z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eAwhO', 'Rapid', 'JoaquinOlula', 1760, 'Hussain_chess', 1892, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,d6,Bb5,Ne7,O-O,O-O,Nxc6,bxc6,Bd3,Bb6,Na3,Bb7,Qd2,h6,Nc4,Bxe3,Qxe3,Rfe8,Qd2,Ng6,Na5,Rab8,Nxb7,Rxb7,b3,Ne5,Ba6,Rbb8,Be2,Nd7,c4,Nc5,Rad1,Nxe4,Qd3,Nc3,Rd2,d5,cxd5,Rbd8,Rc2,Nxd5,Bf3,Nb4,Qc4,Nxc2,Qxc2,Rd6,Rc1,a6,h3,Ree6,Bg4,Re7,b4,Qg6,Qc4,Re4,Qc3,Rd3,Qc5,Rd5,Qc3,Rxg4,hxg4,Qxg4,Qxc6,Rd1+,Rxd1,Qxd1+,Kh2,Qd6+', 'Qxd6,cxd6,a4', 'https://lichess.org/training/eAwhO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EAWo0', 'Classical', 'kenzaburo', 2146, 'Vena', 1879, 'd4,g6,e4,Bg7,Nc3,c6,Nf3,d6,Be2,Bg4,O-O,a6,h3,Bxf3,Bxf3,Nd7,Bg5,Qc7,Qd2,e5,d5,c5,a4,Ne7,Bh6,O-O,Rae1,f5,Qg5,Bf6,Qg3,Rf7,Bg5,Raf8,Bh6,Bg7,Qh4,Bxh6,Qxh6,Rg7,Bd1,Rf6,Qg5,Kf7,f4,Ng8,fxe5,Nxe5,exf5,gxf5,Qh5+,Ke7,Rxf5,Rfg6,Rfxe5+,dxe5,Rxe5+,Kd8,Bf3,Nf6,Qf5,h6,Re6,Qf7,Qe5,Nd7,Qd6,Qxf3', 'Rxg6,Rxg6,Qxg6', 'https://lichess.org/training/EAWo0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eaXxo', 'Rapid', 'raawad', 1894, 'Jjh41924', 1930, 'd4,d5,c4,Nf6,Nc3,c6,e3,Bf5,Nf3,e6,cxd5,exd5,Be2,Be7,O-O,O-O,Bd3,Ne4,Qc2,Bg4,Nxe4,Bxf3,Ng3,Be4,Nxe4,dxe4,Bxe4,g6,b3,Nd7,Bb2,Rc8,Qc3,Bf6,Qc2,Re8,Bd3,Nb6,Rac1,Nd5,Qb1,Qd7,Rfd1,Qg4,h3,Qg5,Rc5,b6,Rc4,Bg7,Rdc1,Re6,Qc2,Rf6,Qd2,Qh4,e4,Nf4,d5,Nxd3', 'Bxf6,Qxf6,Qxd3', 'https://lichess.org/training/eaXxo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EaXY8', 'Rapid', 'MarkLouie', 1762, 'Egor_Seyts', 1799, 'e4,c5,Nf3,d6,h3,Nf6,d3,Nc6,b3,e6,Nc3,Be7,Bb2,Bd7,Be2,O-O,Qd2,Qc7,O-O-O,a6,h4,b5,g4,Rac8,g5,Ne8,h5,f5,exf5,Rxf5,Nh4', 'Bxg5,Nxf5,Bxd2+', 'https://lichess.org/training/EaXY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eayAW', 'Rapid', 'URUGUAYO83', 2039, 'jesusibiricu', 1903, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,Be7,e3,O-O,Bd3,Nbd7,c5,b6,b4,bxc5,bxc5,a5,O-O,Ba6,Ne5,Nxe5,Bxf6,Nxd3,Bxe7,Qxe7,Qc2,Rab8,Rfb1,Rxb1+,Rxb1,Qc7,Na4,Nb4,Qd2,Bc4,a3,Na6,Nb6,Nb8,Qxa5,Nd7', 'Nxc4,Qxa5,Nxa5', 'https://lichess.org/training/eayAW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eAZ7i', 'Rapid', 'Albi71', 1707, 'Sopp', 1727, 'e4,e5,g3,d6,Bg2,Nc6,b3,f5,d3,Nf6,Nd2,b5,Bb2,fxe4,Nxe4,Bd7,Ne2,Be7,O-O,O-O,Nxf6+,Bxf6,d4,Qe8,dxe5,Bxe5,Bxe5,Qxe5,c3,Rae8,Nd4,Nxd4,Qxd4,Qxd4,cxd4,Re2,a4,bxa4,bxa4,c5,dxc5,dxc5,Bd5+,Be6,Bxe6+,Rxe6,Rfc1,Rc8,Rc4,Rb6,a5,Rb4,Rxb4,cxb4,Rb1,Rc4,Rb3,Kf7,Kg2,Ke6,Kf3,Rc3+,Rxc3,bxc3,Ke3,c2,Kd2,c1=B+,Kxc1,Kd5,Kd2,Kc5,f4,Kb5,h4,Kxa5,g4,Kb4,g5,a5,f5,a4,Kc2,Kc5,f6', 'gxf6,gxf6,Kd6', 'https://lichess.org/training/eAZ7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EAzWj', 'Rapid', 'BERNARDOGIL', 1966, 'Lobo_42', 1883, 'e4,c5,Nf3,Nc6,g3,e6,Bg2,d6,O-O,Bd7,c3,Nf6,Qc2,Be7,d3,h6,Ne1,Qc7,f4,e5,f5,g5,g4,Nxg4,Na3,a6,Nf3,Nf6,d4,exd4,cxd4,O-O,Bd2,Rac8,Rac1,g4,Bxh6,gxf3,Bxf3,Kh7,Bxf8,Rxf8,Kh1,Nxd4,Qg2,Ng8,Rg1,Bf6,Qh3+,Nh6,Rg3,d5,Rcg1,Nxf3,Rxf3,dxe4', 'Qxh6+,Kxh6,Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/EAzWj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EB3K8', 'Rapid', 'Roman_sever', 1605, 'MuriloLima', 1609, 'e4,c5,d4,cxd4,c3,e5,Bc4,Nf6,Nf3,Nxe4,Nxe5,d5,Bb5+,Nc6', 'Nxc6,bxc6,Bxc6+', 'https://lichess.org/training/EB3K8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eB3Yq', 'Classical', 'BeauChess24', 1829, 'dkol', 1781, 'Nf3,e6,d4,d5,g3,c5,Bg2,Nc6,c3,Nge7,dxc5,Ng6,b4,b6,Qa4,Bd7,cxb6,Qxb6,Qc2,Rc8,Be3,d4,Nxd4,Nxd4,Bxd4', 'Qxd4,cxd4,Rxc2', 'https://lichess.org/training/eB3Yq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eb4AA', 'Rapid', 'XiSparks', 1633, 'Pluton2001', 1607, 'd4,e6,Bf4,Ne7,Nf3,Nd5,Bg3,Nc6,e4,Nde7,c3,d6,Bb5,a6,Ba4,b5,Bb3,Na5,Bc2,d5,Nbd2,Bb7,exd5,Bxd5,O-O,Nc4,Nxc4,Bxc4,Re1,Bd5,Ne5,Ng6,Nxg6,hxg6,b3,Bd6,Bxd6,Qxd6,h3,Bb7,Qg4,O-O-O,Rad1,Rh6,Re5,f6,Rxe6,Qa3,Rxa6+,f5,Qxf5+,gxf5,Bxf5+,Kb8,Rxa3,Re8,c4,Re2,cxb5,Rf6,g4,g6,Bd3,Rexf2,Bxg6,Rg2+,Kh1,Rxg6,d5,Rb2,Ra4,Rf6,Kg1,Rf3,Re4,Rg3+,Kf1,Rh2,Re8+,Ka7,Re2,Rhxh3,Rg2', 'Rh1+,Kf2,Rxg2+,Kxg2,Rxd1', 'https://lichess.org/training/eb4AA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eb4fc', 'Rapid', 'you_know_nothing', 2089, 'ashok_7777', 2153, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,g4,e5,Nf5,Bxf5,gxf5,Nc6,Bg5,Qa5,Bxf6,Bxf6,Qh5,Nd4,Qxf7+,Kd8,O-O-O,Rc8,Kb1,Rc7,Qh5,Rxc3,bxc3,Qxc3,Rd3,Qa5,c3,Nxb3,axb3,Qa3,Rxd6+,Kc7,Rd2,Qxb3+,Rb2,Qc4,Rb4,Qd3+,Kb2,Rd8,Qf7+,Rd7,Qc4+,Qxc4,Rxc4+,Kb6,Kc2,Ka7,Rb1,b5,Rcb4,Be7,R4b3,Rc7,Rd1,Kb6,Rd5,Rc5,c4,Kc6,Kd3', 'bxc4+,Kc3,cxb3+', 'https://lichess.org/training/eb4fc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EB6XW', 'Rapid', 'Nik1954', 1731, 'rasoulgol55', 1752, 'e4,c6,d4,d5,e5,Bf5,Bd2,e6,Nf3,Qb6,b3,Ne7,Nh4,Qxd4,Nxf5,Nxf5,c3,Qxe5+,Be2,Bd6,g3,Nd7,O-O,Nf6', 'Bf4,Qxf4,gxf4', 'https://lichess.org/training/EB6XW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eB8lk', 'Blitz', 'napasion', 1985, 'archian143', 1890, 'e4,c5,Nc3,Nc6,Bb5,Nf6,Bxc6,bxc6,e5,Nd5,Nf3,Nxc3,bxc3,Rb8,d4,cxd4,cxd4,g6,O-O,Bg7,Re1,O-O,Bg5,Re8,c3,a5,Qa4,Qb6,h3,Ba6,Rab1,Bb5,Qc2,Qa7,c4,Ba6,Rxb8,Qxb8,Rb1,Qa7,Qa4,h6,Be3,Qc7,Bd2,Rb8,Rxb8+,Qxb8,Qxa5,Bxc4,a4,Qb1+,Kh2,Qb3,Qd8+,Kh7,a5,Be6,a6,Qa4,Qa5,Qxa5,Bxa5,Bd5,a7,c5,dxc5,e6,Kg3,Kg8,Kf4,Kf8,Ke3,Ke8,Nd2,Bxe5,f4,Bb2,Ne4,Ba3,Nd6+,Ke7,Kd4,Bxg2,Nc8+,Ke8,Nb6,Bc1,Ke5,Ke7,a8=Q', 'Bb2+,Bc3,Bxc3#', 'https://lichess.org/training/eB8lk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eb9Vn', 'Blitz', 'stevage', 1696, 'Visasbrah', 1629, 'd4,d5,Nf3,e6,Nc3,Bb4,Bd2,Nf6,h3,O-O,e3,Nc6,Bd3,Bd7,a3,Bd6,Nb5,Be7,c4,a6,Nc3,dxc4,Bxc4,b5,Bd3,b4,Ne4,Nxe4,Bxe4,bxa3,bxa3,Rb8,Qc2,Rb6,Bxh7+,Kh8,Be4,Qb8,Rb1,Rxb1+,Qxb1,Qxb1+,Bxb1,Bxa3,h4,Bb4,h5,a5,h6,g6,Ke2,Bxd2,Kxd2,a4,Bc2,Nb4,Be4,Nd5,Ra1,Ra8,Ne5,Be8,Ra3,Kh7,Ng4,f5,Bxd5,exd5,Nf6+,Kxh6,Nxe8,Rxe8,Kc3,Ra8,Kb4,Kg5,Rxa4,Rxa4+,Kxa4,f4,Kb5', 'fxe3,fxe3,Kf5,Kc6,Ke4,g4,g5,Kc5,Kxe3', 'https://lichess.org/training/eb9Vn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eb9Xc', 'Rapid', 'george-romania', 1817, 'cueman87', 1625, 'b3,e5,Bb2,Bd6,a3,c6,e3,Nf6,h3,Qe7,d3,Bc5,g3,d6,Bg2,Bb6,Nd2,Be6,Qe2,d5,Qf1,Nbd7,Qe2,Rc8,O-O-O,Bc5,Nb1,a5,g4,h6,f3,b5,h4,Bb6,g5,hxg5,hxg5,Rxh1,Bxh1,Nh5,f4,Ng3,Qf3,Nf5,e4,Be3+,Nd2,Bxd2+,Rxd2,Nd4,Qg3,Qc5,Bxd4,exd4,f5,dxe4,fxe6,Ne5,exf7+,Nxf7,Bxe4,Qxa3+,Kb1,Qb4,Re2,a4,Bxc6+,Kf8,Bd5,a3,Bxf7,a2+,Ka1', 'Qc3+,Kxa2,Ra8+,Kb1,Ra1#', 'https://lichess.org/training/Eb9Xc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EBCba', 'Rapid', 'lurker01', 1813, 'white_slonik', 2156, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Bc4,d6,Ng5,O-O,d3,h6,h4,Nc6,Be3,Nd4,a3,Bc5,b4,Bb6,a4,a5,b5,g6,Nf3,Bg4,Nd5,Nxd5,Bxd5,c6,bxc6,bxc6,Bb3,h5,Qd2,Bxf3,Bxd4,Bxd4,Rb1,Bxg2,Rg1,Bf3', 'Rxg6+,Kh7,Qh6#', 'https://lichess.org/training/EBCba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EBctw', 'Blitz', 'raulchess123', 1806, 'lTarzanlROK', 1826, 'e4,c5,Bc4,d6,Ne2,Nf6,a3,Nxe4,O-O,Nc6,Re1,Bf5,Ng3,Nxg3,fxg3,Nd4,d3,e6,c3,Nc6,Nd2,d5,Ba2,Bxd3,Nf3,Bf5,Ng5,h6,Nf3,Qb6,Kh1,Bd6,Bxd5,O-O,Ba2,Bg4', 'Qxd6,Bxf3,gxf3,Rad8,Qf4', 'https://lichess.org/training/EBctw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EBDf3', 'Blitz', 'NM CowHypnosis', 2085, 'bobby711', 2008, 'f4,d5,Nf3,Nf6,e3,Bg4,Be2,Bxf3,Bxf3,Nbd7,O-O,e5,fxe5,Nxe5,d4,Nxf3+,Qxf3,Bd6,c4,c6,cxd5,cxd5,Nc3,O-O,Bd2,Rc8,Rae1,Re8,Kh1,Bb8,e4,dxe4,Nxe4,Nxe4,Rxe4,Rxe4,Qxe4,Qc7,Bf4', 'Qxf4,Qxf4,Bxf4', 'https://lichess.org/training/EBDf3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EbdLq', 'Rapid', 'speelunk', 1809, 'Jomacodezinco', 1835, 'e4,c5,Nf3,Nc6,c3,e6,Bb5,d5,exd5,exd5,O-O,a6,Ba4,b5,Bc2,Nf6,d4,Be7,Re1,O-O,Bg5,b4,Ne5,Bb7,Qf3,cxd4,Nxc6,Bxc6,cxd4,Re8,a3,bxa3,Nxa3,Rb8,Rab1,Bxa3,bxa3,Rxe1+,Rxe1,Qa5,Ra1,Ne4,Bxe4,dxe4,Qg3,Re8,Bf6,g6,Qh3,Qf5,Qxf5,gxf5,Be5,Re6,Rc1,f6,Bf4,Kf7,h4,Kg6,g3,Kh5,Rc5,Kg4', 'd5,Bxd5,Rxd5', 'https://lichess.org/training/EbdLq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EBdSe', 'Rapid', 'Covo', 1722, 'Ccarriles23', 1739, 'd4,Nf6,g4,Nxg4,e4,e5,Be2,d5', 'Bxg4,Bxg4,Qxg4', 'https://lichess.org/training/EBdSe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EbDUb', 'Rapid', 'KaranDutt', 1869, 'juanf8156', 1985, 'd4,e6,c4,d5,c5,Nf6,Nc3,Bd7,Nf3,a6,Bg5,Be7,Ne5,Nc6,Bf4,Nxe5,Bxe5,b6,cxb6,cxb6,Rc1,O-O,e3,b5,Bd3,Rc8,O-O,b4,Ne2,Rxc1,Qxc1,a5,b3,Qc8,Qc7,Qxc7,Bxc7,Bd8,Rc1,Bxc7,Rxc7,Rc8,Rc5,Rxc5,dxc5,Kf8,Nd4,Ke7,f4,Kd8,Ba6,Kc7,c6,Bxc6,Bd3,h6,h3,Nh5,Kf2,Nf6,g4,Ne8,h4,Nd6,Kf3,Be8,g5,hxg5,fxg5,g6,Kg4,Bd7,Kf4,a4,Ke5,Ne8,Nc2,axb3,axb3,Kd8,Nxb4,Ke7,Na6,Nd6,Nc5,Bb5,Bc2,Bc6,b4,Nb5,Bd3,Nc3,Na6,Bb5,Bxb5,Nxb5,Nb8,Nd6,Nc6+,Kd7,Nd4,Ke7,Nc6+,Kd7,Nd4,Ke7,b5', 'Nc4+,Kf4,e5+,Kf3,exd4', 'https://lichess.org/training/EbDUb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ebEf1', 'Classical', 'coolguy2189', 1614, 'rcp_the_chess_guru', 1660, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Nd4,Nxd4,exd4,O-O,c6,Bc4,d5,exd5,cxd5,Re1+,Be6,Bb3,Bb4,c3,dxc3,bxc3,Ba5,Ba4+,Nd7,Qb3,O-O,Qxb7,Nc5,Qb5,Nxa4,Qxa4,d4,Ba3,Re8,Qxd4', 'Qxd4,cxd4,Bxe1', 'https://lichess.org/training/ebEf1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eBevZ', 'Blitz', 'Niko-20616', 2096, 'hemanshexo', 2160, 'a4,Nf6,h4,d5,g3,c5,b3,Nc6,Bb2,g6,Bg2,Bg7,Nh3,O-O,Ng5,e5,h5,Nxh5,Rxh5,gxh5,Nf3,e4,Bxg7,exf3,Bxf3,Kxg7,Nc3,d4,Ne4,Qe7,d3,Bf5,Qd2,Bxe4,Bxe4,Nb4,O-O-O,b5,Rh1,Na2+,Kb2,Nc3,Rxh5,Nxe4', 'Qh6+,Kh8,Qxh7#', 'https://lichess.org/training/eBevZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eBewm', 'Rapid', 'Nub_Hensley', 1636, 'ardru', 1703, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bd2,Nc6,Nf3,e5,Bb5,d6,O-O,Bg4,h3,Bh5,g4,Bg6,Bg5,h6,Bxf6,Qxf6,Qd5,O-O,Bxc6,Qxf3,Bxb7,Bxc3,bxc3,Bxe4', 'Qxe4,Qxe4,Bxe4', 'https://lichess.org/training/eBewm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eBf5t', 'Rapid', 'Rintintin51', 2200, 'armandokn1', 2100, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bg5,Be7,Bxf6,Bxf6,Nf3,b6,Nxf6+,Qxf6,Bb5+,Bd7,Bd3,Bc6,c3,Bxf3,Qxf3,Qxf3,gxf3,Nd7,Rg1,g6,Ke2,O-O,f4,Kh8,b4,Nf6,Kf3,Rad8,Bc4,c6,a4,Rd7,a5,b5,Bb3,Nd5,Rac1,Rfd8,h4,Nf6,Rgd1,a6,Rg1,h6,Ke3,Nd5+,Bxd5,exd5,Kd3,Re7,Rce1,Rde8,Re5,Kh7,Rge1,Re6,h5,Kg7,hxg6,Kxg6', 'f5+,Kf6,fxe6', 'https://lichess.org/training/eBf5t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EBgv8', 'Rapid', 'BravestIIX', 2244, 'alfiltouche', 2255, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,f3,O-O,Bc4,Qb6,Bb3,Nxe4,Nd5,Qa5+,c3,Bxd4,Bxd4,Nc5,Be3,d6,O-O,Be6,Nf4,Bf5,Bd5,Qc7,b4,Ne6,Bb3,Nxf4,Bxf4,a5,a3,Ne5,Rc1,Nd3,Be3,Nxc1,Qxc1,axb4,axb4,Be6,c4,Rfc8,Bh6,Bxc4,Qb2,f6,Rc1,b5,Qe2,d5,Qe6+,Kh8,Bxc4,dxc4,Re1,Ra7,Qf7,Rg8,Re6,Qd8,h3,Qe8', 'Bg7+,Rxg7,Qxe8+', 'https://lichess.org/training/EBgv8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ebhoz', 'Rapid', 'Orkhaniumm', 1765, 'stephenf69', 1763, 'g3,Nf6,Bg2,e5,d3,d5,Bg5,d4,Nf3,h6,Bd2,Bd6,c3,dxc3,Bxc3,Nbd7,O-O,O-O,Nbd2,Re8,e3,c6,Nc4,Bc7,a3,Nd5,Bd2,b5,e4,bxc4,exd5,cxd5,dxc4,dxc4,Qc1,Rb8,Bxh6,gxh6,Qxh6,Re6,Qh5,Bb7,Ng5,Nf6', 'Qxf7+', 'https://lichess.org/training/ebhoz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ebhXT', 'Classical', 'Realblunder', 1643, 'gmloadin', 1633, 'd4,c5,d5,e6,c4,exd5,cxd5,d6,Nc3,Nf6,Bg5,h6,Bxf6,Qxf6,Nf3,Bg4,h3,Bxf3,exf3,Qe5+,Qe2,Qxe2+,Bxe2,Na6,Bxa6,bxa6,O-O-O,Kd7,Rhe1,g5,Ne4,Bg7,b3,a5,Rd2,f5,Ng3,Bc3,Nxf5,Bxd2+,Kxd2,h5,Re6,Rhf8,Nxd6,g4,hxg4,hxg4,Ke3,gxf3,gxf3,Rad8,Nb7,Rde8,Nxc5+,Kc8,d6', 'Rxe6+,Nxe6,Re8', 'https://lichess.org/training/ebhXT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EbjfI', 'Rapid', 'LittleCubes', 1951, 'gorcam1967', 2005, 'Nf3,d5,d4,Nf6,e3,a6,Bd3,e6,O-O,Be7,b3,c5,Bb2,Nc6,a3,b5,Ne5,Nxe5,dxe5,Nd7,f4,Bb7,Nd2,Qb6,Qg4,g6,Nf3,c4,Bd4,Bc5,Be2,Rc8,Rac1,Bxd4,exd4,cxb3,cxb3,h5,Qh4,O-O,Qg5,Kg7,Nh4', 'Qxd4+,Kh1,Rxc1', 'https://lichess.org/training/EbjfI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ebjfR', 'Rapid', 'Petr37', 1614, 'madmar', 1663, 'd4,d5,e4,e6,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Nf3,c5,Bb5,Nc6,O-O,cxd4,Nxd4,Nxd4,Qxd4,O-O,f4,f6,Bd3,fxe5,fxe5,b6,Rxf8+,Qxf8,Qh4,g6,Rf1,Qc5+,Kh1,Bb7,Qg5,Rf8,Rxf8+,Nxf8,Qf6,d4,Ne2,Qd5,Nf4,Qxa2,h3,Bd5,b3,Qa5,Nxd5,Qxd5,Bc4,Qc6,Qd8,Qd7', 'Qxd7,Nxd7,Bxe6+,Kf8,Bxd7', 'https://lichess.org/training/ebjfR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eBJGj', 'Classical', 'yigitdenizk', 1623, 'Maksim_30', 1616, 'e4,e6,d4,d5,Nc3,Nc6,Nf3,Bb4,Qd2,Nge7,a3,Bxc3,Qxc3,dxe4,Qe3,f5,Bb5,Nd5,Bxc6+,bxc6,Qb3,exf3,Qxf3,Ba6,b3,O-O,c4,Ne7,Bg5,Bb7,Qe2,Qd7,O-O,Ng6,Rad1,Rfe8,Qd3,Ba6,Qd2,Rab8,Qc2,Qc8,d5,cxd5,Rfe1,dxc4,bxc4,Nf8,Rd3,h6,Bc1,Rd8,Rg3,Rd4,h3,Rxc4,Qa2,Rxc1,Rxc1,Qb7,Qa1,Qb2,Qxb2,Rxb2,Rxc7,Rb7,Rc6,Rb6,Rc5,Nd7,Ra5,Nf6,Ra4,Ne4,Re3,Nc5,Ra5,Rb5', 'Rxb5,Bxb5,Re5,a6,Rxc5', 'https://lichess.org/training/eBJGj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EbjZk', 'Blitz', 'lamda1', 1894, 'Upandunder', 1832, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Ng4,h3,h5,d4,a6,Ba4,Nxd4,Nxd4,exd4,Qxd4,c6,Bf4,Nf6,Nd2,b5,Bb3,c5,Qe5+,Be7,Bd5,Ra7,c4,d6,Qg5,Nxe4,Qxg7,Bf6,Nxe4,Bxg7,Rfe1,O-O,Bxd6,Re8,Bxc5,Rd7,Re3,Bxb2,Rae1,Bg7,Rg3,Kh7,Ng5+,Kh6,Be3,Rxe3,Rexe3,f6,Nf7+,Rxf7,Bxf7,Qd1+,Kh2,f5,Rg6+,Kh7,Reg3,Be5', 'Bg8+,Kh8,Rh6#', 'https://lichess.org/training/EbjZk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EBkJR', 'Rapid', 'beltsasar', 1845, 'Sfide_Mentali', 1862, 'c4,Nf6,Nc3,e6,a3,g6,e3,Bg7,Nf3,O-O,Be2,d5,d4,c5,O-O,Nc6,dxc5,Ne4,Nxe4,dxe4,Qxd8,Rxd8,Ng5,Na5,Rb1,Nb3,Nxe4,Bd7,Bd1,Nxc1,Rxc1,Bxb2,Rb1,Bxa3,Rxb7,Bc6,Rb3,Bxe4,Rxa3,Bd3,Re1,Bxc4,Rc3,Bb5,Bf3,Rac8,Ra1,a6,h3,f5,Bb7,Rc7,Bxa6,Ra7,Bxb5,Rxa1+,Kh2,Rc8,Bd7,Rc7,Bxe6+,Kf8,c6,Ke7,Bd7,Rd1,Rb3,h6,f3,g5,Kg3,Rd2,Rb5,f4+,exf4,gxf4+,Kxf4,Rxg2,Re5+,Kf7,Rh5,Kg7,h4,Rc2,Rd5,Rc4+,Kg3,Rc3,h5,Rc1,Rd6,Rh1,Bg4,Rc1,Rd7+,Rxd7,cxd7,Rd1,Kf4,Kf7,Ke4,Kf6,Ke3,Rd6,Ke4,Rd2,Ke3,Rd6,Ke4,Ke7,Bf5,Rd1,f4,Re1+,Kf3,Rf1+,Kg3,Rh1,Bg4,Rf1,Bh3,Rh1,Bg4,Re1,Kf2,Rh1,Kg2,Ra1,Kf3,Ra4,Kg3,Rd4,Kf3,Kf6,Ke3,Rd6,Ke4,Ke7,Bf5,Rf6,Ke5,Rf8,Bg4,Rg8,Kf5,Kxd7,Bf3,Kd6,Be4,Rg1,Kf6,Kc5,Bg6,Kd6,f5,Rg5', 'Kg7,Rg1,Kxh6,Ke5,Kg7', 'https://lichess.org/training/EBkJR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EBKX7', 'Rapid', 'andre-kaja', 1881, 'Richard64', 1761, 'e4,c5,Nf3,d6,Bc4,e6,O-O,a6,a4,Bd7,d4,cxd4,Nxd4,Qc7,Bb3,Nf6,Nc3,Nc6,Bg5,O-O-O,Be3,d5,Nxc6,Bxc6,exd5,exd5,Bd4,Bd6,g3,h5,a5,h4,Bb6,Qd7,Bxd8,Rxd8,Nxd5,hxg3,Nb6+,Kc7,Nxd7', 'gxh2#', 'https://lichess.org/training/EBKX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ebmFt', 'Rapid', 'shikantaza', 1789, 'itanje', 1782, 'e4,g6,d4,Bg7,c3,d6,h3,e5,d5,c6,c4,cxd5,cxd5,Qa5+,Nd2,Nf6,Bd3,Nbd7,b3,Nc5,Bc2,Ncxe4,Nf3,Qxd5,O-O,O-O,Nc4,Qc6,Bxe4,Nxe4,Bb2,Be6,Rc1,Rad8,Qe2,Nc5,Rfe1,Rfe8,Red1,Bf5,b4,Ne6,Ne3,Qe4,Rc4,Nd4,Bxd4,exd4,Nxd4,d5,Rc3,Bc8,Qd2,f5,Nf1,Qe7,Nh2,Qxb4,Nhf3,a6,Ng5,Re5,Ngf3,Ree8,a3,Qb6,Rb3,Qa7,a4,Re4,Rd3,b5,axb5,axb5', 'Nc6,Qc5,Nxd8', 'https://lichess.org/training/ebmFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EBmGF', 'Classical', 'AndreuBoix', 1807, 'Garipova_Vika_2010', 1846, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Nf6,d3,Be7,O-O,O-O,Nbd2,Bg4,Re1,a6,Ba4,b5,Bc2,b4,Nb3,bxc3,bxc3,h6,h3,Be6,d4,Qb8,d5,Bd7,dxc6,Bxc6,Nh4,Nd7,Nf5,Bf6,Nxh6+,Kh7,Nf5,g6,Qg4,Qd8,Re3,Nb6,Rg3,Bd7,h4,Rg8,h5,c5,hxg6+,Rxg6,Rh3+,Kg8,Qh5,Kf8,Qh8+,Bxh8', 'Rxh8+,Rg8,Bh6+,Ke8,Rxg8#', 'https://lichess.org/training/EBmGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ebmqr', 'Rapid', 'Klevis25', 1820, 'nikmylo', 1853, 'd4,d5,e3,e6,Nf3,c5,Bd3,Nf6,c3,Bd6,O-O,O-O,Re1,Qc7,e4,dxe4,Bxe4,Nxe4,Rxe4,Nc6,Rh4,f6,Qd3,f5,d5,Ne5,Nxe5,Bxe5,c4,exd5,Qxd5+,Kh8,Nc3,Bxc3,bxc3,Qc6,Qxc6,bxc6,Be3,Ba6,Bxc5,Rfe8,Bd4,Kg8,Be3,Re4,Rxe4,fxe4,Re1,Bxc4,a3,a6,Bd4,Bd5,f3,Re8,c4,Bxc4,Rxe4,Rxe4,fxe4,Kf7,Kf2,Ke6,Bxg7,h5,Ke3,Bf1,Kf2,Bd3,e5,Kf7,Bf6,Ke6,Ke3,Bf1,g3,c5,Kd2,Kd5,Kc3,Be2,h3,a5,Be7,Bf1,g4,hxg4,hxg4,Bh3,g5,Bf5,Bf6,a4,Kd2,Kc4,Ke3,Kb3,Kf4,Bg6,Be7,c4,Ke3', 'c3,Bb4,c2,Bd2,Kxa3', 'https://lichess.org/training/ebmqr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EbMrB', 'Rapid', 'Zamaskowany_Muchacho', 1656, 'serish', 1620, 'e4,e5,Nf3,f6,d4,Nc6,d5,Nce7,Nc3,c6,d6,Ng6,Bc4,Qa5,Bd2,Qb4,Nb5,Qxc4,Nc7+,Kd8,Nxa8,Qxe4+,Be3,Qb4+,Nd2,Qxd6,Bxa7,c5,O-O,Qa6,Bb6+,Ke7,Ne4,Qxa8,Qd6+,Kf7,Qc7,c4,Rfd1,Ke6,Qxc4+,Kf5,Ng3+,Kg5,Rd5,N8e7,Be3+,Nf4,Qxf4+,Kg6,Qg4+,Kf7,Rb5,d5,Qe2,f5,Bc5,Qa6,Rb6,Qxe2,Nxe2,Nc6,Bxf8,Rxf8,Rd1,d4,c3,Rd8,cxd4,exd4,Nf4,g5,Nd3,Rd5,Re1,Ra5,a3,f4,f3,Bf5,Ne5+,Rxe5,Rxb7+,Kg8', 'Rxe5,Nxe5,Rb5,Nc4,Rxf5', 'https://lichess.org/training/EbMrB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EbSlM', 'Blitz', 'Spooky_Boogie', 1796, 'JCarlosLaurente', 1734, 'e4,g6,Nf3,Bg7,c3,Nf6,e5,Ng4,d4,d5,Be2,O-O,O-O,Nh6,h3,c6,Nh2,Qb6,f4,Nf5,g4,Ng3,Rf2,Nxe2+,Qxe2,c5,Be3,c4,f5,gxf5,gxf5,f6,Rg2,Kh8,Qg4,Rg8,Bh6,Bxf5', 'Bxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/EbSlM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EbSsa', 'Blitz', 'Xvoltage17', 1530, 'Imcy4', 1588, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Nf6,d4,exd4,cxd4,Bb6,h3,h6,a3,O-O,b4,Nxe4,b5,Na5,Re1,Nf6,Ba2,Bf5,Nc3,c6,bxc6,Nxc6,d5,Ne5,Nxe5,dxe5,Rxe5,Bd7,d6,Ne8,Nd5,Bc6,Ne7+,Kh8,Bxf7,Rxf7,Ng6+,Kh7,Qc2,Qf6', 'Nf8+,Kg8,Qh7+,Kxf8,Qh8#', 'https://lichess.org/training/EbSsa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ebsTS', 'Rapid', 'Ramselis', 1769, 'north475', 1780, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bd3,Nf6,O-O,Be7,h3,O-O,Nc3,c5,Qe3,Be6,f4,h6,f5,Bd7,b3,Bc6,Qg3,Kh8,Ne2,Nh7,Nf4,Bg5,Nh5,Rg8,Bb2,a6,h4,Bxh4', 'Bxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/ebsTS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ebsvv', 'Rapid', 'lesiggy', 1731, 'Fiacro', 1793, 'e4,c5,Nf3,d6,c3,a6,Be2,g6,d4,Nd7,d5,Bg7,O-O,Ngf6,Bd3,O-O,Re1,Ng4,h3,Nge5,Nxe5,Nxe5,c4,Nxd3,Qxd3,Bd7,Nc3,Rb8,Bf4,Qb6,b3,Rfe8,e5,dxe5,Bxe5,Bxe5,Rxe5,Qf6,Rae1,b5,Qe3,bxc4,Rxe7,Rxe7,Qxe7,Qxc3,Re3,Qc1+,Re1,Qd2,Re2,Re8', 'Qxe8+,Bxe8,Rxd2', 'https://lichess.org/training/ebsvv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EbtkE', 'Rapid', 'Chessdankos28', 1920, 'safetymarsy', 1977, 'e3,e5,d4,exd4,exd4,d5,Bd3,Nf6,Nf3,Nc6,h3,Bd6,O-O,O-O,c3,Nd7,Bg5,f6,Qc2', 'fxg5,Bxh7+,Kh8', 'https://lichess.org/training/EbtkE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ebV6J', 'Rapid', 'chable', 1811, 'fredcastel', 2068, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Nxe4,Bxb4,Nxb4,Qb3,d5,Qxb4,dxc4,O-O,Qd6,Qxd6,Nxd6,Re1+,Kf8,Nc3,c6,h3,Bf5,Rad1,f6,g4,Bd3,Re6,Rd8,Rde1,Rd7,d5,c5,Nb5,Nxb5,Re8+,Kf7,Rxh8,Re7,Rd8,Rxe1+,Nxe1,Ke7,Rc8,b6,a4,Nd4,Rc7+,Kd6,Rxa7,Kxd5,Rxg7,Bg6,Rd7+,Kc6,Rd8,c3,bxc3,Ne2+,Kg2,Nxc3,Rf8,Nxa4,Rxf6+,Kd5,f4,Be4+,Kf2,c4,f5,c3,Rf8,c2,Nxc2,Bxc2,Re8,Nc3,f6,Ne4+', 'Rxe4,Kxe4,f7', 'https://lichess.org/training/ebV6J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EBvoc', 'Classical', 'gyyan', 1988, 'casicasicasi', 1969, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nf3,c5,dxc5,Bxc5,O-O,Qb6,Qe2+,Be6,Ng5,O-O,Nxe6,fxe6,Nc3,Ne4,Nxe4,dxe4,Bxe4,Nc6,c3,Rad8,b4,Bxf2+,Rxf2,Rxf2,Bxh7+,Kxh7,Qe4+,Kh8,Be3,Re2', 'Qh4+,Kg8,Bxb6', 'https://lichess.org/training/EBvoc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ebwLp', 'Blitz', 'player375501', 1524, 'hossam83', 1599, 'd4,d5,Bf4,Bf5,e3,Nf6,Nf3,e6,Bd3,Be4,Bxe4,Nxe4,O-O,Bd6,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/ebwLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eBXtn', 'Blitz', 'FM sinurat_tumpak', 2138, 'karthik_prabhu', 1711, 'e4,d5,exd5,Qxd5,Nc3,Qd8,h3,Nf6,Nf3,Bf5,d4,e6,Bc4,c6,O-O,Nbd7,Ne2,Bd6,Bf4,Bxf4,Nxf4,Qc7,Nd3,O-O-O,Qe2,g5,c3,g4,hxg4,Bxg4,Nde5,Bf5,Nxf7,h5,Nxh8,Rxh8,Bxe6,Bg4,Bxg4,hxg4,Ne5,Nxe5,Qxe5,Qh7,f3,Qh1+,Kf2,Qh4+,Qg3,Ne4+,fxe4,Rf8+,Kg1', 'Rxf1+,Rxf1,Qxg3', 'https://lichess.org/training/eBXtn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EBXX9', 'Rapid', 'Susheed27', 853, 'Dimaster080705', 992, 'e4,e6,f3,Qh4+,g3,Qf6,Nh3,b5,c3,Bb7,Na3,c6,c4,bxc4,Nxc4,Qd4,Na5,Qb4,Nxb7,Qxb7,b3,Nh6,Bd3,Qb4,a3', 'Qd4,Rb1,Qxd3', 'https://lichess.org/training/EBXX9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ebyQS', 'Rapid', 'Mr2000', 1834, 'gdv', 1678, 'e4,e5,Nf3,d6,d4,f6,dxe5,fxe5,Bc4,Be7,O-O,Bg4,h3,Bh5,Nc3,c6,Be2,h6,Be3,g5,Nh2,Bf7,Bh5,Nf6,Bxf7+,Kxf7,Qf3,Kg6,Qf5+,Kg7,g3,Rf8,Qe6,Nbd7,f4,Nc5,Qc4,b5,Qe2,b4,fxe5,Nfxe4,Nxe4,Nxe4,exd6,Qxd6,Rad1,Qxg3+,Kh1,Qxh3', 'Bd4+,Bf6,Qxe4', 'https://lichess.org/training/ebyQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ebzh1', 'Classical', 'Topeeee', 1627, 'beatcore', 1626, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Qd5,Qe7,Be2,Ngxe5,O-O,a5,a3,O-O,e4,Ra6,Nc3,Nxf3+,Bxf3,Nd4,Be3,Nxf3+,gxf3,Rg6+,Kh1,Bd6,Ne2,Qh4,Ng3,c6,Qh5', 'Bxg3,Qxh4,Bxh4', 'https://lichess.org/training/Ebzh1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ec1mE', 'Rapid', 'shtopor', 1873, 'mrguest', 1836, 'e4,c6,d3,d5,exd5,cxd5,Qf3,Nf6,Bf4,Bg4,Qg3,e6,h3,Bf5,c3,Nc6,d4,Qb6,b3,Ne4,Qe3,Bd6,Bxd6,Nxd6,Bd3,Bxd3,Qxd3,O-O,Nf3,Rfe8,Ng5,g6,h4,e5,O-O,exd4,cxd4,Qxd4,Qxd4,Nxd4,Na3,Ne4,Rad1,Ne2+,Kh2,Nxg5,hxg5,d4,Nb5,Re5,Nxd4,Nxd4,Rxd4,Rxg5,g3,b6,a3,Rc8,Re1,Rc3,Re3,Rxe3,fxe3,Rf5,Kg2,h5,Rd7,a5,Rd6,Rb5,Rd3,Kg7,Kf3,Kf6,g4,h4,e4,Ke5,g5,f5,exf5,Kxf5,a4,Rb4,Rd5+,Ke6,Rd3,b5,axb5,Rxb5,Kg4,Rb4+,Kh3,a4,bxa4,Rxa4,Rf3,Ke5,Rf6,Rf4,Rxg6,Kf5,Rg8,Rg4', 'Rf8+,Kxg5,Rg8+', 'https://lichess.org/training/Ec1mE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ec2f0', 'Rapid', 'priyatel444', 1612, 'bigwestern', 1608, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nf6,Ne5,Bd6,Nf3,O-O,d4,Re8+,Be2,c5,O-O,cxd4,Nxd4,Ne4,Nxd5,Bc5,Nf3,Be6,Nf4,Qxd1,Bxd1,Nc6,Nd3,Bb6,Ng5,Nxg5,Bxg5,h6,Bd2,Bc4,Bf3,Rad8,Bc3,Bxd3,cxd3,Rxd3,Rac1,Ba5', 'Bxc6,bxc6,Bxa5', 'https://lichess.org/training/Ec2f0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eC2R0', 'Rapid', 'alperen7887', 1872, 'Dael74', 1806, 'e4,e6,d4,d5,c4,dxe4,Nc3,Bb4,Be2,Nc6,d5,exd5,cxd5,Nce7', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/eC2R0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EC4N4', 'Rapid', 'Bekzod_Shamsiyev', 1930, 'User300', 1953, 'e4,e5,Nf3,Qf6,Bc4,h6,Nc3,c6,d3,g5,h3,Bc5,Qe2,a5,a3,d6,Be3,Nd7,O-O-O,b5,Ba2,b4,Bxc5,dxc5,Na4,bxa3,b3,Ne7,c3,Rb8,Kc2,Ba6,Rb1,Qd6,Rhd1,Nc8,Qe3,Ncb6,Nxb6,Nxb6,d4,exd4,cxd4,c4,Ne5,cxb3+,Bxb3,O-O,Qc3,Qb4', 'Bxf7+,Rxf7,Rxb4', 'https://lichess.org/training/EC4N4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ec70P', 'Rapid', 'sofiko_bilyk', 1667, 'irafavas', 1680, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,Re1,O-O,c3,d6,d4,Bb6,dxe5,Nxe5,Nxe5,dxe5,Bg5,Qe7,Nd2,Qc5,Qe2,Bg4,Nb3', 'Bxe2,Nxc5,Bxb5', 'https://lichess.org/training/Ec70P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ec9Md', 'Rapid', 'Bekish68', 1942, 'NjAtO', 2040, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bc4,Nf6,O-O,d6,Bg5,h6,Bh4,g5,Bg3,Rb8,e5,Ne4,Bxf7+,Kxf7,Qf3+,Nf6,exf6,Qxf6,Qxc6,Bb6,Nc3,Bb7,Qd7+,Kg6,Rfe1,Bc8,Qa4,Bf5,Nd5,Qf7,Ne7+,Kg7,Nxf5+,Qxf5,Re7+,Kg6,Rae1,Rhf8,c3', 'Bxf2+,Kh1,Bxe1', 'https://lichess.org/training/ec9Md');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EcAdf', 'Rapid', 'sanj54', 1909, 'gholam4848', 1836, 'e4,e5,c4,Nf6,d3,h6,h3,Nc6,Be3,Be7,g4,Nh7,Nf3,f6,a3,O-O,b4,a6,Nc3,d6,Nd5,Be6,Qc1,b6,Bg2,Qd7,Qd1,Bd8,Nh4,Na7,Nf5,Bxf5,gxf5,Rb8,Qg4,Kh8,h4,c6,Nc3,Nc8,a4,Ne7,b5,a5,Ke2,d5,bxc6,Qxc6,Nxd5,Nxd5,cxd5,Qc2+,Bd2,Qc7,Rac1,Qd7,Rhg1,Qxa4,Bf3,Rg8,Bxh6,Rb7,Rc8,Qd7,Rc6,Rb8,Be3,b5,Rgc1,b4,Ra6,b3,Qg1,a4,Rb1,Qb5,Rc6,a3,Rc5,Qa6,Bd2,a2,Rcc1,axb1=Q,Rxb1,Ba5,Qe1,Bxd2,Qxd2,Rgc8,Rb2,Rb5,Kf1,Qa4,Kg2,Rbc5,Bd1,Nf8,h5,Rb8,Kg3,Nh7,Kg4,Ng5,f3,Qa5,Qxa5,Rxa5,Rxb3,Rxb3,Bxb3,Rb5,Bc4,Rb1,Kg3,Rg1+,Kf2,Rc1,d6,Kh7', 'd7,Rxc4,d8=Q', 'https://lichess.org/training/EcAdf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ECcg6', 'Rapid', 'Yura08', 1889, 'OhWhatsThisCrap', 1913, 'd4,c5,g3,cxd4,Qxd4,Nf6,Bg2,Nc6,Qd1,h5,Nf3,e6,a3,Bc5,b4,Be7,Bb2,Ng4,Bxg7,Rg8,Bb2,Qb6,O-O,d5,Nd4,Nxd4,Bxd4,Qc7,Nd2,h4,e3,hxg3,fxg3,Nxh2,Kxh2', 'Qxg3+,Kg1,Qxg2#', 'https://lichess.org/training/ECcg6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ecCTs', 'Rapid', 'vanraj01', 1805, 'felino111', 1799, 'e4,d5,exd5,Qxd5,d4,e5,Nf3,exd4,Nc3,Bb4,Qxd4,Qxd4,Nxd4,Bxc3+,bxc3,c6,Bc4,Nf6,O-O,O-O,h3,Nbd7,Re1,Nb6,Bb3,Bd7,Bg5,Nfd5,c4,Nb4,a3,Na6,c3,Rfe8,Be3,Nc5,Ba2,Nba4,Nf3,b6,Red1,Rad8,Rac1,Be6,Rxd8,Rxd8,Nd4,Re8,Nxc6,a6,Bd4,Bd7,Ne5,Be6,Rd1,f6,Nd3,Nxd3,Rxd3,Nb2,Re3,Kf7,Bxb6,Bxc4,Rxe8,Kxe8,Bxc4,Nxc4,Bd4,Nxa3,Kf1,Kd7,Ke2,Kc6,Kd3,Kd5,f3,Nc4,Kc2,a5,Kb3,Nd2+,Ka4,Nc4,Kb5,h5,g4,hxg4,fxg4,Nd2,Kxa5', 'Nb3+,Kb4,Nxd4', 'https://lichess.org/training/ecCTs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCDpG', 'Rapid', 'bhanu123', 1655, 'DeviousDeceiver', 1658, 'd4,Nf6,Bf4,Nd5,Bg3,Nc6,e4,Nf6,d5,Nb4,c3,Na6,e5,Ne4,f3,Nxg3,hxg3,Nc5,b4,Na6,Bxa6,bxa6,f4,e6,c4,d6,Nf3,exd5,cxd5,Bg4,a3,Bxf3,Qxf3,dxe5,fxe5,Be7,Nc3,O-O,O-O,f6,exf6,Rxf6,Qd3,Rg6,Rf3,Rc8,Raf1,c6,Qc4,cxd5,Qxd5+,Qxd5,Nxd5,Bd6,Rf7,Rxg3,Rxa7,Rxa3,Nb6,Rb8,Nc4,Rc3,Nxd6,Rxb4,Raf7,Rb8,Ra7,Rc6,Ne4,Re6,Ng5,Rg6,Ne4,h5,Nc5,Rbb6,Rff7,h4,Nd7,Rb1+,Kh2,Rb2,Ne5,Rbxg2+,Kh3,R6g5,Nf3,R2g3+,Kxh4', 'R5g4+,Kh5,g6+,Kh6,Rh3+,Nh4,Rhxh4#', 'https://lichess.org/training/eCDpG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ecE8l', 'Rapid', 'Mrsomebody', 1777, 'detrez', 1870, 'e4,c5,Nf3,d6,Bc4,e6,c3,Nf6,d4,cxd4,cxd4,Nxe4,O-O,d5,Bb5+,Bd7,Bxd7+,Nxd7,Nc3,Ndf6,Re1,Bb4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/ecE8l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EcEuF', 'Blitz', 'Octocadinion', 2212, 'Zenotrigger1', 2130, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,Nc3,axb5,Nxb5,Qa5+,Nc3,Ne4,Bd2,Nxd2,Qxd2,g6,e4,d6,Nf3,Bg7,Bd3,Ba6,O-O,O-O,Rfe1,Nd7,a4,Bxd3,Qxd3,Rfb8,Reb1,Bxc3,bxc3,Rxb1+,Qxb1,Qxc3,Ra2,Rb8,Qf1,Ra8,h3,Nb6,Qb5,Qa5,Qc6,Nxa4,Kh2,Qb4,Qd7,Kf8,Qc6,Ra7,Qc8+,Kg7,Qe8,Qxe4,Ra3,Qf4+,g3,Qb4,Ra2,Qb3,Ng5,e5,dxe6,Qxa2,exf7,Rxf7,Nxf7,Qxf2+,Kh1,Qf1+,Kh2,Qxf7,Qxa4,Qf2+,Kh1,Qd4,Qd7+,Kh6,Qd8,c4,Qf8+,Kg5,Qe7+,Qf6', 'h4+,Kf5,g4+,Kxg4,Qxf6', 'https://lichess.org/training/EcEuF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ECFjT', 'Classical', 'BMSH', 1969, 'CM Tripp-Trapp-Trull', 1945, 'd4,d6,Nf3,Nd7,e4,e5,d5,Ngf6,Nc3,Be7,Be2,h6,O-O,c6,h3,Qc7,Be3,Nf8,Na4,g5,Nd2,b5,Nc3,b4,Na4,c5,a3,bxa3,Rxa3,Ng6,f3,Nf4,Bb5+,Kf8,Re1,h5,Nc4,Rb8,Bc6,Rb4,c3,Rxc4,Bb5,Rxa4,Rxa4,g4,Bf1,gxh3,Bxf4,exf4,e5,dxe5,d6,Bxd6,Rxa7,Qb6,Bc4,Rg8', 'Rxf7+,Ke8,Rxf6', 'https://lichess.org/training/ECFjT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCfLm', 'Blitz', 'Fringe17', 1665, 'Starteg246', 1655, 'c4,c6,g3,g6,Bg2,Bg7,Nf3,Nf6,d3,O-O,O-O,d6,Bg5,Bg4,Qd2,Qd7,Nc3,Bh3,Nh4,Bxg2,Nxg2,e5,Ne4,Qe6,Rac1,Nbd7,h4,Qh3,Nxf6+,Bxf6,d4,Bxg5,Qxg5,exd4,Nf4,Qf5,Qe7,Rad8,Qxd6,Nf6,Qa3,a6,Kg2,g5,hxg5,Qxg5,Nh3,Qe5,Qf3,Ne4,Rh1,Rd6,Nf4,Rg6,Nxg6,fxg6,Qb3,Rxf2+,Kg1,Rxe2,c5+,Kh8,Qf3,Rf2,Qg4,Rf5,Re1,d3,Rxe4,Qxb2,Re8+,Kg7,Re7+,Kf8,Rhxh7,Qc1+,Kh2', 'Rf2+,Kh3,Qh1#', 'https://lichess.org/training/eCfLm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ECFzm', 'Blitz', 'ramitibi', 1878, 'Luisito32', 1970, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,h3,Nc6,Be3,e5,Bd3,exd4,Nxd4,Nxd4,Bxd4,Re8,O-O,Be6,Nd5,Nxd5,Bxg7,Nf4,Bc3,Qg5,g4,Nxh3+,Kh2,Bxg4,Be2,Qf4+,Kh1,Bxe2,Qxe2,Rxe4,Qd3,Rae8,Qxh3,Rxc4,Rae1,Rxe1', 'Qc8+,Re8,Qxe8#', 'https://lichess.org/training/ECFzm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCgmS', 'Blitz', 'Sasha1995', 1761, 'TRUMPist', 1737, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,c6,Qf3,Nf6,d4,Bg4,Qg3,Ne4,Qxg4,Nxc3,bxc3,Qxc3+,Bd2,Qxa1+,Ke2,e6,Bxe6,fxe6,Qxe6+,Kd8,Bg5+,Kc7,Qe5+,Kb6', 'Bd8+,Ka6,Qa5#', 'https://lichess.org/training/eCgmS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCGSl', 'Rapid', 'vanadous', 1615, 'dirty_bart', 1635, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Na5,Be2,b6,d4,exd4,cxd4,Bb7,b4,Bxb4+,Nbd2,Bxe4,Qa4,Qe7,O-O,Bxd2,Bxd2,Nf6,Rac1,Bc6,Qc2,O-O,Ne5,Qd6,Be3,Nd5,Nxc6,Nxc6,Qe4,Rae8,Qg4,Nxe3,fxe3,Rxe3,Rcd1,Rfe8,Bc4,Rf8,Rf4,Na5,Bd3,c5,d5,c4,Be4,Qc5,Kh1,Qb4,h4,c3', 'Bh7+,Kxh7,Rxb4', 'https://lichess.org/training/eCGSl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ecHBo', 'Blitz', 'Mikepov', 1972, 'Akkim', 2075, 'f4,g6,Nf3,Nf6,d3,d5,Nc3,c6,g3,Bg7,Bg2,Nbd7,O-O,O-O,e3,Qc7,d4,a6,Ne5,Ne8,Bd2,f6,Nd3,e5,fxe5,fxe5,Rxf8+,Kxf8,Bh3,e4,Nf4,Ndf6,Bxc8,Qxc8,Qe2,Kg8,Rf1,Nd6,Kg2,Qd7,h3,Nc4,Bc1,Rf8,g4,Rf7,g5,Ne8,h4,Ned6,b3,Nb6,Nd1,Nf5,Qe1,Na8,c4,Nc7,Nc3,Bf8,Bd2,Bb4,Nxe4,Bxd2,Nxd2,dxc4,Nxc4,Re7,Ne5,Qe8,Kh3,Nd5,e4,Nxf4+,Rxf4,Nxd4,Ng4,Qc8,Kg3,Ne6,Nf6+,Kg7,Qc3,Nxf4,Nd5+,Kf7', 'Qf6+,Kg8,Nxe7#', 'https://lichess.org/training/ecHBo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCHjb', 'Rapid', 'puzzled_jelly', 1789, 'Hind001', 1696, 'e4,e5,f4,Nc6,Nf3,Nf6,fxe5,Nxe4,d3,Nc5,d4,Na4,Bc4,Be7,O-O,O-O,c3,Nb6,Bd3,d6,exd6,Bxd6,Ng5,h6,Qh5,Be6,Nxe6,fxe6,Qg6,Rf6,Qh7+,Kf7,Qg6+,Kf8,Bxh6,Rxf1+,Kxf1,gxh6,Qxh6+,Ke7', 'Qg7+,Ke8,Bg6#', 'https://lichess.org/training/eCHjb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCHTW', 'Classical', 'Neofito_no_xadrez', 1853, 'Botlasureshkumar', 1668, 'e4,e5,d3,Bc5,c3,d5,Nd2,d4,Nb3,Bb6,Nf3,dxc3,Nxe5,Qf6,d4,cxb2,Bxb2,Nc6,Nxc6,Qxc6,Bc4,Qxc4,Nd2,Ba5,Rc1,Bxd2+,Qxd2,Qxa2,d5,Nf6,Qc3,O-O', 'Ra1,Qxa1+,Bxa1', 'https://lichess.org/training/eCHTW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ecIfg', 'Blitz', 'Gonzalez_Americo', 1961, 'miguel_angel_75', 1960, 'd4,d5,Nf3,Nf6,c4,e6,Nc3,Nbd7,Bf4,Bd6,Bg5,c6,e3,h6,Bh4,O-O,Qc2,Re8,O-O-O,a5,g4,dxc4,Bxc4,b5,Bd3,Qb6,g5,hxg5,Bxg5,c5,Nxb5,Be7,Kb1,Ba6,a4,Rac8,Qe2,cxd4,exd4,Red8,Rhg1,Kf8,Ne5,Nxe5,dxe5,Nd5,Bxe7+,Kxe7,Rxg7,Bxb5,Bxb5,Qc5,Qd2,Nc3+,bxc3,Rxd2,Rxd2,Qxc3', 'Rd7+,Kf8,Rdxf7#', 'https://lichess.org/training/ecIfg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCJmH', 'Rapid', 'itsmeandrew', 1774, 'mixmoksik', 1770, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,Nxd5,Qxd5,Nf3,Bg7,e3,c5,b3,Nc6,Bc4,Qd6,Bb2,O-O,O-O,cxd4,exd4,a6,Qd2,b5,Be2,Bb7,Rac1,Ne5', 'dxe5,Qxd2,Nxd2', 'https://lichess.org/training/eCJmH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCkkF', 'Rapid', 'masterprosper', 1963, 'thaidarf', 1951, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,c3,Nf6,Nd2,Qb6,Qa4,e6,f3,Bc5,Nc4,Qa7,Nxc6,bxc6,Qd1,Bf2+,Ke2,d5,Nd6+,Ke7,e5,a5,Nxc8+,Raxc8,exf6+,Kxf6,h4,Rhd8,Bg5+,Kg6,Bxd8', 'Qe3#', 'https://lichess.org/training/eCkkF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ECKQ8', 'Blitz', 'Negroapolo', 1783, 'WiteMan', 1761, 'e3,d5,d4,c5,Nf3,cxd4,Qxd4,e5,Qxe5+,Be7,Nc3,Nf6,Bb5+,Nc6,Qg3,Be6,Qxg7,Rg8,Qh6,Rg6,Qf4,Bd6,Qa4,Rxg2,Bd2,Bg4,Bf1,Bxf3,Bxg2,Bxg2,Rg1,Bf3,Rg7,Qe7,Ne2,d4,Nxd4,O-O-O,Nxf3,Ne4,O-O-O,Qf6,Rg4,Qxf3,Rxe4,Bb4,Rf4', 'Bxd2+,Rxd2,Qh1+,Rd1,Qxd1#', 'https://lichess.org/training/ECKQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EClLr', 'Rapid', 'velomosh', 1832, 'chessheart_ranjan', 1844, 'e4,Nc6,Qf3,e5,c3,Nf6,h3,h5,Bb5,d5,d3,dxe4,dxe4,Bd7,Bg5,Be7,Na3,Nxe4', 'Bxe7,Qxe7,Qxe4', 'https://lichess.org/training/EClLr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCMJ8', 'Rapid', 'Skkha', 2125, 'Gueloes', 2103, 'Nf3,c5,g3,Nc6,Bg2,d5,d4,Nf6,O-O,Bf5,c4,e6,Nc3,cxd4,Nxd4,Nxd4,Qxd4,dxc4,Qxc4,Rb8,Rd1,Qb6,Bf4,Bc5,Bxb8,Bxf2+,Kh1,O-O,Bd6,Re8,e4,Bg6,e5,Nh5,Ne4,Bxe4,Qxe4,f5,Qxb7,Qe3,Qd7', 'Nxg3+,hxg3,Qh6+,Bh3,Qxh3#', 'https://lichess.org/training/eCMJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCMpp', 'Rapid', 'laki3', 1650, 'alexdol', 1727, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,Bd3,Bd6,Bxg6,hxg6,Ne4,Bc7,Be3,b6,Qd2,Ne7,O-O-O,Qd5,Nc3,Qa5,Kb1,Nd7,h3,O-O-O,Bf4,e5,Bxe5', 'Nxe5,Nxe5,Bxe5', 'https://lichess.org/training/eCMpp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ECMRJ', 'Rapid', 'juliosimondi46', 1902, 'Faucon18', 1789, 'e4,c5,f4,Nc6,Nf3,d6,d3,Nf6,Be2,g6,O-O,Bg7,Kh1,O-O,c3,a6,Be3,b5,Nbd2,b4,c4,Nd7,Rb1,a5,b3,a4,Re1,Bb7,Nf1,axb3,axb3,Qa5,h3,Qa2,Ng3,Bc3,Bd2,Bd4,f5,Nde5,Bh6,Rfe8,Nxd4,Nxd4,Rf1,Ra3,f6,Rxb3,Rxb3,Qxb3,Qd2,Qc2,Qg5,Nxe2,Nxe2,Qxe2,Rg1,Qf2,fxe7,Nxd3,Qg4,Rxe7,Ra1,Rxe4', 'Ra8+,Bxa8,Qc8+,Re8,Qxe8#', 'https://lichess.org/training/ECMRJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ECmWs', 'Classical', 'sky_eleven', 1801, 'AlirezaNasa', 1742, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Nf6,d4,cxd4,Nxd4,d5,exd5,exd5,Bb3,Be7,O-O,O-O,Bg5,Ne4,Bxe7,Nxc3,bxc3,Nxe7,Re1,Nf5,Re5,Nh6,Rxd5,Qf6,Qf3,Qh4,Rh5,Qe7,Qg3,Re8,Kf1,Nf5,Nxf5', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/ECmWs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCnLe', 'Bullet', 'dukeshark', 1697, 'jakeewan', 1634, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,c3,Ngf6,Bc4,e6,O-O,Bd6,Bg5,Qc7,Re1,Bxg3,fxg3,Ne4,Bf4,Qb6,Ne5,Qxb2,Nxg6,Qf2+,Kh1,hxg6,Rxe4,O-O-O,Re2', 'Rxh2+,Kxh2,Rh8+,Bh6,Rxh6#', 'https://lichess.org/training/eCnLe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCnTX', 'Rapid', 'main2aje', 1774, 'tomato8888', 1637, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Bb5+,Nd7,O-O,Bg7,Nc3,a6,Ba4,b5,Bb3,Bb7,Be3,Nc5,Bd5,Bxd5,Nxd5,Nxe4,Qf3,Nc5,Nc6,Qc8,Bxc5,Qxc6,Ba3,Rb8', 'Nf6+,Bxf6,Qxc6+', 'https://lichess.org/training/eCnTX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCOpw', 'Rapid', 'whoissb', 1644, 'elgogershon', 1664, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,e5,Ng4,exd6,cxd6,Bb5+,Bd7,Qxg4,Bxb5,Nxb5,g6,Qd4,Qd7,Nxd6+,Bxd6,Qxh8+,Bf8,O-O,O-O-O,Qc3+,Kb8,Bf4+,Ka8,h3,Rc8,Qa3,Bxa3,bxa3,Qd4,Be3,Qc3,Rfc1,Qxa3,c4,Qd3,c5,Qe4,Rab1,f5,a3,f4,Rb4,Qd5,Rxf4,Qe5,Ra4,a6,c6,Rxc6,Rxc6,bxc6,Rxa6+,Kb7,Ra7+,Kb8,Ra4,c5', 'Bf4,Qxf4,Rxf4', 'https://lichess.org/training/eCOpw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EcPAG', 'Rapid', 'alex1028', 1619, 'JinKazaragi', 1951, 'e4,Nf6,d3,e5,Bg5,h6,Bh4,Be7,Nc3,d6,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/EcPAG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ecqak', 'Rapid', 'mehrnaz33', 1902, 'lucioc84', 1921, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Ne7,O-O,Bf5,Re1,O-O,Bg5,f6,Bh4,Bxd3,Qxd3,Nbc6,c3,Ng6,Bg3,Bxg3,hxg3,Qd7,Nbd2,Rae8,Rxe8,Rxe8,Re1,Rxe1+,Nxe1,Qe7,Nef3,Kf7,Kf1,Nd8,Qf5,Qe6', 'Ng5+,Ke7,Nxe6', 'https://lichess.org/training/ecqak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EcqCz', 'Rapid', 'piousshrimp', 1721, 'artddx', 1683, 'd4,d5,Bf4,Nf6,e3,Nc6,Nf3,Bg4,Be2,e6,c3,Be7,Nbd2,O-O,Ne5,Bf5,Ndf3,Bd6,h3,Be4,Bd3,h6,g4,a6,Rg1,g5,Bg3,Bxd3,Qxd3,Ne4,h4,Bxe5,Nxe5,Qf6,hxg5,Qxg5,Bf4,Qh4,Bg3,Nxe5,dxe5,Qxg4', 'Bh2,Qxg1+,Bxg1', 'https://lichess.org/training/EcqCz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ecqWI', 'Rapid', 'martinbigi', 1728, 'BlindBrumak', 1775, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,d6,Nc3,Bd7,Nf3,a6,Be2,Nc6,Bg5,Be7,Qd2,Nf6,O-O,O-O,Rad1,Qa5,e5,Nxe5,Nxe5,Qxe5,Bf4,Qf5,Bxd6,Bxd6,Qxd6,Bc6,Bd3,Qg5,Qg3,Qa5,Qh3,Rfd8,Rd2,Qb4,Rfd1,Kf8,Bxh7,Rxd2,Rxd2,Rc8,Bd3,Qxb2,Qh8+,Ng8,Bh7,Qxc3,Qxg8+,Ke7,Qxc8', 'Qa1+,Rd1,Qxd1#', 'https://lichess.org/training/ecqWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ECQxT', 'Rapid', 'Vo82va', 1692, 'mjxhhd', 1620, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,Nf6,Be3,Be7,Qd2,O-O,f3,a6,Na3,b5,Nd5,Be6,Nxf6+,Bxf6,O-O-O,Bxa2,g4,b4,Nc4,b3,c3,Be7,h4,Bxh4,Nxd6,Bf6,Qh2,h6,Nf5,Qxd1+,Kxd1,Rfd8+,Kc1,Nb4,Nxh6+,gxh6,Qxh6,Bb1,Qh7+,Kf8,Bc5+,Ke8,Bxb4', 'Bg5+,f4,Bxf4+,Kxb1,Rd1#', 'https://lichess.org/training/ECQxT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ecrR6', 'Rapid', 'wise_chessologist', 1876, 'The_Budtender', 1682, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,Nf6,Bg5,Bxc5,Nxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/ecrR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EcSh7', 'Rapid', 'Silvermoonshy-ine', 2521, 'YaaasQueen', 2449, 'Nf3,Nf6,c4,c6,b3,d5,Bb2,Bg4,g3,Nbd7,Bg2,e6,O-O,Be7,d4,O-O,Nbd2,Rc8,Ne5,Bf5,f3,Bg6,Nxg6,hxg6,e4,dxe4,fxe4,e5,dxe5,Bc5+,Kh1,Nh7,e6,fxe6,Qg4,Ndf6,Qxe6+,Kh8,Rad1,Ng5,Qe5,Be3,Nf3,Qe8,Nxg5,Qxe5,Bxe5,Bxg5,h4,Be3,Bxf6,Rxf6,Rxf6,gxf6,Rd7,b6,Rxa7,Rd8,Kh2,Rd3,e5,fxe5,Be4,Rd2+,Kh3,g5,h5,Rd4,Bf5,b5,cxb5,cxb5,Rb7,b4,Kg2,g4,h6,Rd2+,Kf1', 'Rf2+,Ke1,Rxf5', 'https://lichess.org/training/EcSh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCsm0', 'Blitz', 'adamf96', 1825, 'Fb5', 1825, 'c4,e5,Nc3,Nf6,g3,c6,Nf3,Bd6,e4,Bc7,d4,d6,Bg5,Bg4,Bg2,Nbd7,Qd3,exd4,Nxd4,Ne5,Qc2,h6,Bxf6,Qxf6,O-O,Nxc4,Nf5,Bxf5,exf5,Ne5,f4,Nd7,Rae1+,Kf8,Kh1,h5,Ne4,Qxf5,Qb3,Rb8,Rd1,h4,Nxd6,Bxd6,Rxd6,hxg3,Qxg3,Nf6,Rfd1,Ng4,Rd8+,Rxd8,Rxd8+,Ke7,Rxh8', 'Qb1+,Bf1,Qxf1+,Qg1,Nf2#', 'https://lichess.org/training/eCsm0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ecsnI', 'Blitz', 'Dovelove168', 1741, 'Turner231', 1734, 'd4,e6,Nf3,d5,e4,dxe4,Nfd2,Nc6,c3,Nf6,Bb5,Bd7,O-O,Bd6,Re1,O-O,Nxe4,Nxe4,Rxe4,a6,Bd3,Qf6,Qg4,e5,Qxd7,exd4,cxd4,Nxd4,Qh3,g6,Rh4,Rfe8,Bd2,Qg5,Bxg5', 'Re1+,Bf1,Ne2+,Kh1,Rxf1#', 'https://lichess.org/training/ecsnI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCTNl', 'Rapid', 'abassi56', 1748, 'brandonlimit', 1994, 'd4,d5,f4,Nf6,e3,Bf5,Nf3,h6,Bd3,Ne4,Nbd2,e6,O-O,c6,Ne5,Nd7,Qh5,g6,Qf3,Nxd2,Bxd2,Nxe5,fxe5,Be7,e4', 'dxe4,Bxe4,Qxd4+', 'https://lichess.org/training/eCTNl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ecwle', 'Rapid', 'reveforever', 1927, 'Dennis1000', 1891, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Re1+,Be7,Bb5,Nf6,Bxc6+,bxc6,Qe2,h6,d3,Be6,Ne5,Qc7,Bf4,Bd6,Bg3,O-O,Nc3,Rfe8,Qd2,Bf5,Nf3,Bxg3,hxg3,d4,Ne2,Nd5,a3,Re7,Nf4,Rae8,Rxe7,Rxe7,Re1,g5,Nxd5,cxd5,Nxg5', 'Rxe1+,Qxe1,hxg5', 'https://lichess.org/training/Ecwle');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCXj7', 'Blitz', 'aky244', 1783, 'creising', 1767, 'e4,c5,Nf3,d6,Bc4,Nf6,Ng5,e6,d3,h6,Nf3,a6,a3,b5,Ba2,Nc6,c4,b4,axb4,Nxb4,Bb3,e5,Nc3,Bg4,h3,Bh5,Nd5,Nfxd5,cxd5,Be7,Ba4+,Kf8,b3,g6,Ba3,Bxf3,Qxf3,Kg7,Bxb4,cxb4,Bc6,Ra7,O-O,Qb6,Qg4,Qd4,Rad1,Qc3,Ba4,Rc7,f4,Qd4+,Kh1,exf4,Rxf4,Rc3,e5,Qxe5,Re4,Qf6,Rxb4,Rhc8,Bc6,Qf2,Qxc8,Qe2,Rg1,Bf6,Re4,Qd2,Rc4,Rxd3,Qg4,Be5,Rcc1,Rg3,Qd1', 'Rxh3+,gxh3,Qh2#', 'https://lichess.org/training/eCXj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EcXqC', 'Blitz', 'ali13455431', 1874, 'George1-Marshall', 1824, 'e4,d5,exd5,Qxd5,d4,Bf5,Nc3,Qd8,Nf3,Nc6,Be3,Nf6,h3,e6,Nh4,Bg6,Nxg6,fxg6,Qf3,Be7,Bc4,Nd5,Nxd5,exd5,Bxd5,Bf6,Bxc6+,bxc6,Qxc6+,Kf7,O-O,Qd6,Qc4+,Qe6,Qxc7+,Qe7,Qxe7+,Bxe7,c4,Rhb8,Rab1,Kg8,a3,a5,c5,Rb3,Rfc1,Rc8,Rc2,Kf7,Kf1,Ke6,Ke2,Kd5,Kd1,h6,Re2,Bf6,Kc2,a4,Kd1,g5,Rc2,Rc6,Kd2,Bxd4,Bxd4,Kxd4,Rd1,Rd3+,Ke2', 'Re6+,Kf1,Rxd1#', 'https://lichess.org/training/EcXqC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ECybS', 'Rapid', 'astralGuide', 1861, 'anjag', 1801, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Be7,Be3,O-O,Be2,a6,a4,Nc6,Qd2,Be6,Nc1,Rc8,Nd3,h6,h3,Nd4,f4,Nxe2,Qxe2,exf4,Nxf4,Bc4,Qd2,g5,Nfd5,Nxd5,Nxd5,Bxd5,exd5,Bf6,O-O,Bg7,Rab1,Qc7,c3,Qc4,a5,f5,Rbd1,f4,Bb6,Rce8,Qd3,Qe4,Qxe4,Rxe4,Kh1,Rfe8,Bc7,Be5,Rfe1,Rxe1+,Rxe1,Rc8,Bb6,Rc4', 'Rxe5,dxe5,d6', 'https://lichess.org/training/ECybS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCyC9', 'Rapid', 'Chichoski', 2037, 'khaledkh91', 2026, 'd4,c5,e3,e6,Nf3,d5,c4,Nf6,Bd3,dxc4,Bxc4,cxd4,exd4,Nc6,O-O,Be7,Nc3,O-O,Bg5,Nd5,Bxe7,Ncxe7,Rc1,Bd7,Ne5,Bc6,Nxc6,bxc6,Ne4,Qb6,Bb3,a5,Nc5,Ra7,g3,g6,Kg2,Rfa8,Qd2,a4,Bxd5,cxd5,Rc2,Nf5,Rfc1,Nd6,Qf4,h5,Qf6,Qd8,Qf4,Kg7,Nd3,Nf5,h3,Qb8,Rc7,Rxc7,Rxc7,Ra7', 'Rxf7+,Rxf7,Qxb8', 'https://lichess.org/training/eCyC9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eCysV', 'Rapid', 'kuros', 2135, 'chess-cv-ua', 2249, 'e4,c5,Nf3,e6,c4,Nc6,d4,cxd4,Nxd4,Qc7,Nc3,a6,a3,Nf6,Be2,Be7,O-O,O-O,Be3,d6,Rc1,Ne5,b3,Bd7,f3,Rac8,Qd2,h6,Rfd1,Rfe8,h3,Ng6,Kh1,Qb8,Bg1,Nh5,Bh2,Bg5,Qc2,Bxc1,Qxc1,e5,Nc2,Nhf4,Bf1,Be6,Ne3,b5,Ned5,Bxd5,Nxd5,Ne6,Qe3,Nc5,Bg1,Ne7,Bf2,Nxd5,Rxd5,Rcd8,Kg1,Rf8,Qc3,Ne6,Qb4,Nf4,Rd1,bxc4,Qxb8,Rxb8,Bxc4,a5,a4,Rfd8,Be1,Ra8,Kf2,Kf8,Bd2,g5,Be3,Ke7,Bc1,Ne6,Be3,Rdc8,Rd5,Nc5,Bxc5,Rxc5,Rxc5,dxc5,g4,f6,Ke2,Rd8,Bb5,Rd4,Bc4,Kd6,Bb5,Kc7,Bc4,Kb6,Bf7,c4,Bxc4,Kc5,Be6,Kb4,Bf7,Kc3,Be6,Rd2+,Ke3,Rh2,Bc4,Rxh3,Kf2,Rh2+,Ke3,h5,gxh5,Rxh5,Be6,Rh2,Bd5,Rg2,Be6,Kb4,Kd3,Rg3,Ke3,Kc3', 'Kf2,Rxf3+,Kxf3', 'https://lichess.org/training/eCysV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ed0bg', 'Rapid', 'AJEDREZSUPERIOR', 1659, 'Teimoso', 2010, 'd4,d5,Nf3,Nf6,e3,e6,Bd3,c5,c3,cxd4,cxd4,Nc6,a3,a5,O-O,Be7,Re1,O-O,Nbd2,Qc7,b3,e5,e4,dxe4,Nxe4,Nd5,dxe5,Nxe5,Nxe5,Qxe5,Ng5,Qxa1,Nxh7,Bxa3,Qh5,Nf4', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/Ed0bg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ed0vi', 'Classical', 'Jj63', 1651, 'junkie_goat', 1621, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,e5,d3,Be6,Bxe6,fxe6,Nf3,Nc6,O-O,h6,Re1,Qf6,Ne4,Qg6,Nh4,Qf7,a3,O-O-O,b4,Nf6,Nxf6,gxf6,Be3,e4,b5,Nd4,Bxd4,Rxd4,Rxe4,Rxe4,dxe4,Be7,Nf3,Rd8,Qe2,f5,exf5,Qg7,Ra2,exf5,c4,Bc5,a4,h5,Kh1,Rh8,Qe6+,Kd8,Rd2+,Bd6,c5,Qa1+,Ng1,Re8,Qxf5', 'Qxg1+,Kxg1,Re1#', 'https://lichess.org/training/Ed0vi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edarY', 'Rapid', 'mibadu44', 1751, 'Hookz62', 1780, 'e4,e5,Nf3,Nc6,Nc3,d6,d3,Bg4,Be2,Bxf3,Bxf3,Nd4,O-O,Nf6,Be2,Qd7,Re1,Be7,Bf1,O-O-O,Ne2,b5,Nxd4,exd4,h3,h5,Be2,g5,c3,g4,h4,dxc3,bxc3,d5,e5,Ne8,d4,Bxh4,Qc2,Ng7,Bd3,Kb7,a4,c6,axb5,cxb5,Qb1,a6,Be3,Rc8,Rc1,Rc6,c4,dxc4,Bxc4,Nf5,Bxb5,Rxc1+,Bxc1,Qxb5,Qxf5,Qd5,Be3,Rh6,Qb1+,Ka7,Qb4,Rb6,Qf8,Bd8,Qh8,h4,Rc1,h3,f3,gxf3,Qxh3,fxg2,Qxg2', 'Rg6,Qxg6,fxg6', 'https://lichess.org/training/edarY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edbyb', 'Rapid', 'TumayE17', 2094, 'FireGod2020', 2156, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,O-O,Nbd7,a3,Nc5,f3,Be7,Be3,O-O,Qd2,Qc7,Ba2,b5,Bg5,Bb7,b4,Ncd7,Kh1,Rac8,Nce2,Ne5,Rac1,Nc4,Bxc4,Qxc4,c3,h6,Bxh6,gxh6,Qxh6,Rfd8,Ng3,Qd3,h4,Rxc3,Rxc3', 'Qxc3', 'https://lichess.org/training/edbyb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edc5a', 'Rapid', 'iamefe21', 2023, 'Calipsson', 2148, 'd4,Nf6,c4,e6,Nf3,b6,Nc3,Ba6,e3,c5,d5,Bd6,Be2,O-O,O-O,exd5,cxd5,Bb7,e4,Ng4,Nb5,Qe7,Nxd6,Qxd6,b3,f5,h3,fxe4,hxg4,exf3,Bxf3,Na6,Bb2,Nc7,g5,Qg6,Qd2,d6,Rac1,Rae8,Rfe1,Rf5,Be4,Rxe4,Rxe4,Rxg5,g3,Rxg3+,fxg3,Qxe4,Qg5,Ne8,Rd1,Qc2', 'Re1,Qxb2,Rxe8+', 'https://lichess.org/training/edc5a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Edc5v', 'Rapid', 'bkseok6016', 1628, 'Dostoevsky1995', 1647, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,c5,c3,Nc6,Nbd2,Bd6,Bg3,O-O,Nb3,c4,Nbd2,b5,b4,Bb7,Ne5,Nd7', 'Nxc6,Bxc6,Bxd6', 'https://lichess.org/training/Edc5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EDCHW', 'Rapid', 'pexon77', 1861, 'zjarrr', 1819, 'e4,e5,f4,exf4,Nf3,g5,d3,g4,Ng1,Qh4+,Ke2,g3,h3,d6,Bxf4,Qxf4,Nf3,Bh6,Qd2,Qf6,Qc3,Bg7,d4,Nc6,Nbd2,Nxd4+,Nxd4,Qxd4,Qxd4,Bxd4,c3,Bf2,Nf3,Nf6,Kd3,b6,e5,Ba6+,Kc2,Bxf1,Rhxf1,dxe5,Nxe5,Nd7,Nc6,Nb8,Nd4,c5,Nf5,Nd7,Rad1,O-O-O,Nd6+,Kc7,Nxf7,a5,Nxd8,Rxd8,Rd5,Nf6,Rh5,Kd7,Rd1+,Ke7', 'Re5+,Kf7,Rxd8', 'https://lichess.org/training/EDCHW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edCJ7', 'Rapid', 'Harish_2005', 1894, 'Kavyasree534', 1709, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,Bg4,h3,Bxf3,Qxf3,Nd4,Nf6+,gxf6,Qxd5,Nxc2+,Kd2,Nxa1,Qxb7,Rd8,b3,Bd6,Bb2,Kf8,Rxa1,Kg7,Qxa7,e4,Qe3,Rhe8,Kd1,exd3,Qf3,Be7,Kd2', 'Bb4+,Bc3,Re2+,Qxe2,dxe2+,Kxe2,Bxc3', 'https://lichess.org/training/edCJ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Edcma', 'Classical', 'cinghiale27', 1757, 'aegul', 1707, 'e4,e5,Nf3,Nc6,Bb5,Qf6,d4,exd4,Bg5,Qd6,O-O,Be7,e5,Nxe5,Bxe7,Nxe7,Nxd4,O-O,Nc3,Qg6,Qe2,d6,f4,Ng4,Bd3,Nf5,Nd5,Nxd4', 'Ne7+,Kh8,Nxg6+', 'https://lichess.org/training/Edcma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edDtz', 'Blitz', 'DmDonCh', 2809, 'GM Lunaticxxx', 2788, 'd4,Nf6,Nf3,e6,g3,d5,Bg2,Be7,O-O,O-O,Bg5,b6,c4,Bb7,Nc3,dxc4,Qa4,a6,Qxc4,b5,Qb3,Nbd7,Rfd1,h6,Bxf6,Nxf6,Ne5,Bxg2,Kxg2,Qc8,d5,Qb7,e4,Bd6,Nf3,e5,Qc2,Rac8,Qe2,Rfd8,Rd3,b4,Nd1,Qb5,b3,c6,dxc6,Qxc6,Nd2,Bc5,Rc1,Qb6,Nb2,Bd4,Nbc4,Qe6,Rf1,Rd7,h3,Rcd8,f4,Bc3,Rxd7,Nxd7,Nf3,exf4,gxf4,Nc5,e5,Qg6+,Kh2,Qd3,Qg2,Ne6,Ng1,Qf5,Ne2,Rd3,Ng3,Rxg3,Qxg3,h5,Qf3,h4,Ne3,Qd3,Ng2,Qc2,Rd1,Nd4,Qa8+,Kh7,Rf1,Qxa2,Qe4+,g6,f5,Nxf5,e6,fxe6,Qxe6,Qb2,Rd1,Be5+,Kg1,Bd4+,Kh1,Be5,Qf7+,Kh6,Qf8+,Kg5,Qc5,Ng3+,Kg1,Ne2+,Kf1,Ng3+,Kg1,Ne2+,Kf2,Ng3+,Kf3', 'Qe2#', 'https://lichess.org/training/edDtz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eDDYu', 'Rapid', 'qodrat-e-zehn', 1875, 'bonifacio02', 1913, 'd4,Nf6,g3,e5,Bg2,exd4,Qxd4,Nc6,Bxc6,dxc6,Qxd8+,Kxd8,Bg5,Be7,Nc3,b5,Nf3,Bb7,Rg1,Nd5,Nxd5,cxd5,Bxe7+,Kxe7,Nd4,a6,e3,Kf6,O-O-O,c5,Nb3,Rac8,a3,Rhd8,Nd2,d4,exd4,cxd4,f4,Bc6,Nb3,d3,Rxd3', 'Rxd3,cxd3,Bd5+,Kd2,Bxb3', 'https://lichess.org/training/eDDYu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edDZg', 'Blitz', 'CM Srchesschilango', 2341, 'AlbertoTop', 2331, 'd4,d5,c4,e6,Nc3,c5,Nf3,Nc6,Bg5,Be7,Bxe7,Ngxe7,e3,cxd4,Nxd4,O-O,Nxc6,bxc6,Qc2,Ba6,cxd5,Bxf1,Rxf1,cxd5,Ke2,Nf5,Rfd1,Qh4,h3,d4,e4,dxc3,exf5,cxb2,Qxb2,Qc4+,Kf3,exf5,Rd4,Qc6+,Kg3,Rab8,Qd2,Qc7+,f4,Rbd8,Rd1,Rxd4,Qxd4,g6,Rd3,Re8,Rc3,Qd8,Qxa7,Qd2,Rf3,Re2,Rf2,Qe1,Kf3,Re4,Qb8+,Kg7,Qb2+,Kh6,Re2', 'Qf1+,Rf2,Qd3#', 'https://lichess.org/training/edDZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eDeiD', 'Blitz', 'hichamt', 1633, 'nemi1609', 1841, 'e4,e5,f3,Bc5,Nh3,d6,c3,Qh4+,g3,Qf6,d4,exd4,Qa4+,Bd7,Qc4,dxc3,Nxc3,Nc6,Bg5,Qd4,Qe2,f6,Rd1,Qb4,Bd2,Nd4,Qd3,Qxb2,Rc1,Ne7,Be2,Nxe2,Nxe2,Bb5,Qc2,Qxc2,Rxc2,Bxe2,Kxe2,b5,f4,Nc6,e5,Nd4+,Kd1,Nxc2,Kxc2,Rb8,exf6,b4,Re1+,Kf7,fxg7,Kxg7,Re7+,Kg6,g4,Rbe8', 'f5+,Kf6,Bg5#', 'https://lichess.org/training/eDeiD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eDEVe', 'Rapid', 'aimakarov', 1845, 'mehiar', 1824, 'e4,e6,Nf3,c6,Nc3,d5,Be2,d4,Nb1,c5,O-O,a6,d3,Nf6,c3,Nc6,cxd4,cxd4,Bg5,Be7,Bxf6,Bxf6,Nbd2,e5,Nc4,O-O,a3,b5,Ncd2,Be6,b4,Ne7,Nb3,Rc8,Nc5,Bg4,Nxa6,Qb6,Nc5,Ng6,Nd2,Bxe2,Qxe2,Nf4,Qg4,h5,Qf3,g5,Nd7,g4,Qd1,Qd6,Nxf8,Kxf8,Rc1', 'Rxc1,Qxc1,Ne2+,Kh1,Nxc1', 'https://lichess.org/training/eDEVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EDfat', 'Rapid', 'cerno', 2020, 'benbaydo2017', 1941, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nf6,d4,c6,c4,Qa5+,Nc3,e6,O-O,Nbd7,h3,Bh5,Be3,Qc7,Qc2,Bd6,Rad1,a6,Rd2,h6,Rfd1,Bf4,Bxf4,Qxf4,d5,O-O,dxe6,fxe6,Rxd7,Nxd7,Rxd7,Rab8,Ne4,Bg6,Bd3,Bxe4,Bxe4,Rfd8,Rxd8+,Rxd8,a3,a5,c5,Qf6,Nd2,Qd4,Nf3,Qf6,g3,Rf8,Kg2,Rd8,Ne1,Qg5,b4,Qd2,Qxd2,Rxd2,b5,Re2,bxc6', 'bxc6,Kf3,Rxe1', 'https://lichess.org/training/EDfat');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EdGEQ', 'Rapid', 'MrSteelhammer', 1946, 'Wili2304', 1947, 'e4,c5,Nf3,Nc6,d3,g6,Be3,d6,Nc3,Bg7,Qd2,a6,O-O-O,b5,h4,h5,Ng5,e6,Be2,Nge7,g4,hxg4,Bxg4,Nb4,Kb1,a5,h5,a4,hxg6,Nxg6,Rxh8+,Bxh8,Nxb5,Bf6,d4,Qb6,dxc5,Qxb5,cxd6,Nxa2,Bd4,Bxd4,Qxd4,Nb4,Be2,Qxe2', 'd7+,Bxd7,Qxd7+,Kf8,Qxf7#', 'https://lichess.org/training/EdGEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EDH3v', 'Blitz', 'RioMike', 1993, 'gerto4334', 1893, 'e4,c5,Nc3,Nc6,g3,d6,d3,Nf6,Bg2,g6,f4,Bg7,Nf3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,O-O,O-O,Rb8,Be3,Nh5,Bf2,f5,Qd2,fxe4,Nxe4,Nf6,c3,Nxe4,Bxe4,Nf5,Bd5+,Kh8,g4,e6,Bxe6,Ne7,Bh4,Bf6,Bxf6+,Rxf6,f5,Nc6,g5,Rf8,fxg6,hxg6,Rxf8+,Qxf8,Qe1,Qe7,Qh4+,Qh7,Qg3,Rd8,Rf1,Ne5,d4,cxd4,cxd4,Nc6,Rf7,Qh5,Qf4,Qd1+,Kg2,Qe2+,Kg3,Qxe6', 'Qh4+,Kg8,Qh7#', 'https://lichess.org/training/EDH3v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EdHaY', 'Rapid', 'usart', 1760, 'Latuist', 1792, 'e4,e5,d3,d5,exd5,Qxd5,Nf3,Nf6,Be2,h6,h3,Bc5,O-O,O-O,Be3,Bd6,Nc3,Qe6,Ne4,Nxe4,dxe4,b6,Nh2,Qg6,Bg4,Qxe4', 'Bf3,Qg6,Bxa8', 'https://lichess.org/training/EdHaY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eDHHc', 'Rapid', 'preko31', 1808, 'Dfjggc', 1812, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd2,Qf6,Bd3,Bc5,Nf3,Nge7,O-O,O-O,Qg5,Qxg5,Nxg5,Nd4,Nc3,d6,Be3,Ng6,b4,Bb6,Na4,Ne5', 'Nxb6,axb6,Bxd4,Nxd3,cxd3', 'https://lichess.org/training/eDHHc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EdjPn', 'Blitz', 'PietPuck', 1602, 'Zaki_gym', 1556, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bb5+,Bd7,O-O,Bxb5,Ndxb5,a6,e5,Nfd7,Nxd6+,Bxd6,exd6,Nf6,Bf4,Nc6,Qf3,O-O,Rad1,Nd7,a3,Qb6,b4,Rad8,Ne4,Nd4,Qd3,Nf5,g4,Nh4,Be3,Qc6,Nc5,Nf3+,Kg2,Ng5+,f3,Ne5,Qd2,Nxg4,Bxg5,h6,Bxd8,Rxd8,d7,Ne5,Kg3,Qc7,Kg2,Nc4,Qd4,Ne5,f4,Ng4,Kg3,Nf6,h4,Qc6,Qd6,Qb5,Qc7,Qe2,Qxd8+,Kh7,Qxf6,gxf6,d8=Q,Qe3+,Kg4,h5+,Kxh5', 'Qe2+,Rf3,Qxf3#', 'https://lichess.org/training/EdjPn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EDK7A', 'Blitz', 'nlag0', 1770, 'balouies', 1733, 'd4,Nf6,Nf3,d6,Bf4,Nc6,e3,Bg4,h3,Bh5,c4,e6,Qb3,b6,Be2,Be7,Nc3,O-O,Bd3,d5,cxd5,exd5,Bg5,h6,Bxf6,Bxf6,Nxd5,Na5,Nxf6+,Qxf6,Qd1,Nc6,Be2,Rfe8,a3,Rad8,Qd3,Bg6,Qc3,Be4,Bd3,Bxf3,gxf3,Qxf3,O-O,Re6,Kh2,Ne7,Bc2,Nd5,Qd3,Rg6,Qe4', 'Rg2+,Kh1,Qxh3#', 'https://lichess.org/training/EDK7A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eDKDO', 'Rapid', 'TheRapidPlayer', 1901, 'pam1776', 1972, 'd4,d5,Bf4,Nf6,e3,g6,Nc3,Bg7,Nf3,O-O,Qd2,Nbd7,h4,c5,Be2,cxd4,Nxd4,Ne4,Nxe4,dxe4,Bg3,Qb6,O-O-O,Ne5,Nb3,Bg4', 'Bxe5,Bxe5,Bxg4', 'https://lichess.org/training/eDKDO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EdKDx', 'Rapid', 'mcape', 1680, 'Manda_Ivanovna', 1664, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,e3,Nbd7,Bd3,Bg4,O-O,e6,cxd5,cxd5,Be2,a6,Qa4,b5,Qc2,Rc8,Re1,Ne4,Bd2,Ndf6,Qd1,Bd6,Ne5,Bxe2,Qxe2,O-O,f3,Ng5,e4,dxe4', 'Bxg5,Bxe5,dxe5', 'https://lichess.org/training/EdKDx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edLEz', 'Blitz', 'affetbaba', 2240, 'Rado4ka13', 2156, 'e4,Nc6,Nc3,e5,g3,Bc5,Bg2,d6,Nge2,a6,d3,Ba7,h3,Nge7,Be3,Ng6,Bxa7,Rxa7,Qd2,b5,O-O,O-O,f4,exf4,Nxf4,Nxf4,Rxf4,Ne5,Qf2,c5,Rf1,Be6,Nd5,Bxd5,exd5,f6,Be4,Qd7,Bf5,Qe7,Be6+,Kh8,Rh4,Rc7,Qe2,c4', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/edLEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edmKY', 'Blitz', 'Pafhd', 1962, 'mavahom', 2087, 'd4,g6,c4,Bg7,Nf3,d6,g3,Nf6,Bg2,O-O,O-O,Nc6,Nc3,e5,d5,Ne7,e4,Ne8,Bg5,f6,Be3,f5,exf5,gxf5,Bg5,Bf6,Qd2,Ng6,Bxf6,Qxf6,Ng5,a6,Ne6,Rf7,Rae1,Ng7,Ng5,Re7,f4,e4,Ncxe4,fxe4,Nxe4,Qf8,Qd4,Bf5,Nf6+,Kh8,Rxe7,Nxe7,g4,Bg6,f5,Bf7,Nd7,Qd8,f6,Qxd7,fxg7+,Kg8,Qf6,Qe8,g5,Ng6,Be4,Ne5,Bxh7+,Kxh7', 'Qh6+,Kg8,Qh8#', 'https://lichess.org/training/edmKY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EDodA', 'Rapid', 'MarcelMoyse', 1715, 'Sybotes', 1692, 'd4,d5,Bf4,Nf6,Nf3,Bf5,Nbd2,e6,c3,Bd6,Ne5,Nbd7,e3,Qe7,Be2,Ne4,Nxe4,Bxe4,f3,Bg6,Nxg6,hxg6,Bxd6,Qxd6,f4,Nf6,Bf3,O-O-O,Qb3,Rh4,g3,Rh3,O-O-O,Rdh8,Rd2,Rxg3', 'hxg3,Rxh1+,Bxh1', 'https://lichess.org/training/EDodA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edonb', 'Rapid', 'mj007', 1998, 'Azatobekzato', 1928, 'f4,c6,Nf3,d5,d4,Bf5,e3,e6,Nbd2,Nd7,a3,c5,c3,Ngf6,dxc5,Bxc5,Nb3,Be7,Nbd4,Bg6,Be2,h6,O-O,O-O,Bd3,Ne4,a4,a6,Nd2,Ndc5,Bxe4,Nxe4,Nxe4,Bxe4,f5,exf5,Nxf5,Qd7,Qg4,Bg5', 'Nxh6+,Bxh6,Qxd7', 'https://lichess.org/training/edonb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eDpj7', 'Blitz', 'MariaD98', 1666, 'Elias2604', 1649, 'e4,c5,Nf3,Nc6,Nc3,e5,Bb5,a6,Be2,Nf6,O-O,Be7,d3,O-O,Bg5,d5,exd5,Nxd5,Bxe7,Ncxe7,Nxe5,Nxc3,bxc3,Ng6,Nxg6,fxg6,d4,cxd4,cxd4,b5,c4,Bb7,cxb5,Qg5,f3,axb5,Qb3+,Kh8,Bxb5,Rad8,Be2,Bd5,Qd3,Rc8,Qa3,Ra8,Qc5,Rac8,Qd6,Qe3+,Kh1,Qxd4,Rac1,Rcd8,Qa3,Qh4,Ba6,g5,Rc5,Ba8,h3,g4,Rc8,gxh3', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/eDpj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EDr71', 'Blitz', 'Eltorturador', 1853, 'Vinz84', 2224, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,Qb6,Rb1,Qxd4,Nf3,Qd8,h3,e6,Bd3,Bd6,Qe2,Nbd7,O-O,O-O,Bg5,h6,Bh4,g5,Bg3,Nh5,Bxd6,cxd6,g3,Nc5,Rbd1,d5,Ne5,Ng7,f4,Nxd3,Rxd3,b6,fxg5,Qxg5,Kh2,Ba6,Nf3,Bxd3,cxd3,Qd8,g4,f5,gxf5,Rxf5,Rg1,Qf6,Nh4,Rf2+,Rg2,Rxe2,Rxe2,Qxh4,Rg2,Kh7,Ne2,Rf8,Ng3,Qf4,Kh1,Qc1+,Kh2,Nf5,Nh5,Rg8', 'Nf6+,Kh8,Rxg8#', 'https://lichess.org/training/EDr71');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eDRnh', 'Rapid', 'nedstark321', 1892, 'alfred34', 1926, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Ne2,Bg4,f3,Bh5,Nf4,Qe5+,Ne2,Nc6,g4,Bg6,Bg2,O-O-O,O-O,h5,gxh5,Rxh5,c3,e6,d4,Qxh2+,Kf2,Bd6', 'Rh1,Qxh1,Bxh1', 'https://lichess.org/training/eDRnh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EDRTP', 'Classical', 'strawberry2020', 1868, 'animia', 1831, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Bb4,Nxc6,Bxc3+,bxc3,bxc6,Qf3,d5,c4,dxe4,Qxe4,Bb7,Qd3,Qc7,Bb2,e5,Qe3,O-O-O,Bxe5,Qe7,Bxg7,Qd7,Bxh8,Re8,Be5,f6,Qxa7,Rxe5+,Be2,Qg4,f3,Qxc4,Qf2', 'Qc3+,Kf1,Qxa1+', 'https://lichess.org/training/EDRTP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edRYp', 'Rapid', 'falconeone', 1882, 'knifelifekiller', 1863, 'e4,e5,Bc4,Bc5,Nf3,Nf6,d3,Nc6,a4,a5,c3,d6,O-O,O-O,Be3,Bxe3,fxe3,Bg4,Nbd2,d5,exd5,Nxd5,Bxd5,Qxd5,Qc2,Ne7,e4,Qe6,Nc4,Ng6,Rf2,Rad8,h3,Bxf3,Rxf3,Nf4,Nxa5', 'Qb6+,d4,Qxa5', 'https://lichess.org/training/edRYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eDs3c', 'Rapid', 'akselzug', 1780, 'JBM1Official', 1800, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb3,a6,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,Bc4,Nc6,Bd5,O-O,Qf3,Nd4,Nxd4,exd4,Ne2,Qa5+,c3,dxc3,Nxc3,Bxc3+,Qxc3,Qxc3+,bxc3,Rb8,O-O,Be6,c4,Bxd5,cxd5,Rfe8,f3,g6,g4,b5,a3,Rec8,Rfc1,Kf8,Rc6,Rxc6,dxc6,Rc8,Rc1,Ke7,Kf2,Ke6,Ke3,d5,Kd4,dxe4,fxe4,Kd6,e5+,Ke6,c7,Kd7,Rf1,Ke6,Rf6+,Kd7,Rxa6,Rxc7,Kd5,Rb7,Kc5,h6,Rd6+,Kc7,Rf6,Kc8,Rc6+,Kd7,Rf6,Ke7,Ra6,Kf8,Kc6,Re7,Kd6', 'Re6+,Kc7,Rxa6', 'https://lichess.org/training/eDs3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Edsg1', 'Classical', 'jlmerci', 2032, 'kampfdog', 1888, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Bc4,e6,N1e2,Nf6,O-O,Be7,f4,O-O,f5,exf5,Nxf5,Bxf5,Rxf5,Nbd7,Bd3,c5,c3,Qc7,Bf4,Bd6,Bxd6,Qxd6,Ng3,cxd4,Rg5,Qf4,Rf5,Qe3+,Kh1,g6,Rf3,Qe5,cxd4,Qxd4,Ne2,Qd6,Qf1,Kg7,Rd1,Qe5,Bc4,Rac8,Bb3,Rcd8,Nf4,Qe7,Re1,Qd6,Bxf7,Rxf7', 'Ne6+,Qxe6,Rxe6', 'https://lichess.org/training/Edsg1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EdSX5', 'Classical', 'PerpetualStalemate', 1712, 'Hatta80', 1749, 'd4,Nf6,Bf4,e6,Nf3,b6,e3,Bb7,Nbd2,Be7,c3,d6,Bb5+,Nbd7,Ba4,a6,Qe2,b5,Bc2,d5,Ne5,c5,Ndf3,Ne4,Nxd7,Qxd7,Ne5,Qd8,h4,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/EdSX5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edTtk', 'Rapid', 'DeezKnights', 1853, 'MRA_PY', 1969, 'd4,d5,c4,e6,Nc3,c6,e3,Bb4,Nf3,Bxc3+,bxc3,Nf6,cxd5,exd5,Bd3,Bg4,O-O,Nbd7,h3,Bh5,Be2,Ne4,Qc2,Qf6,Ba3,Bxf3,Bxf3,Ng5,Bg4,Nb6,Bc5,h5,Be2,Nd7,Ba3,Ne4,c4,g5,cxd5,cxd5,Bb5,g4,Bxd7+,Kxd7,f3,Ng3,Rf2,gxf3,Rxf3,Qg7,Kh2,Ne4,Raf1,f6,Qa4+,Ke6,R1f2,Rhc8,Qb5,Rc6,Rb2,Rb6,Qe2,Rxb2,Qxb2,b6,Qc2,Qd7,Rf4,Rc8,Qe2,Qh7,Qa6,Rc2,Bb4,Qg7,Qf1,Rxa2', 'Rxe4+,dxe4,Qc4+', 'https://lichess.org/training/edTtk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eDu22', 'Classical', 'pent3L', 1700, 'Pelt', 1719, 'e4,Nf6,e5,Nd5,Bc4,Nb6,Bb3,e6,d3,d6,exd6,cxd6,Nc3,d5,Nf3,Be7,Ne5,Nc6,Qh5,O-O,Bf4,Bf6,Ng4,g6,Nxf6+,Qxf6,Qg4,e5,Qg5', 'Qxf4,Qxf4,exf4', 'https://lichess.org/training/eDu22');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eDUic', 'Blitz', 'JanisPastel', 2548, 'IM Nozdrachev_Vladislav', 2674, 'Nf3,d5,g3,e6,Bg2,Nf6,O-O,Be7,b3,O-O,Bb2,c5,d4,Nc6,c4,dxc4,bxc4,Na5,dxc5,Nxc4,Bd4,Bd7,Qc2,Na5,Rd1,Qc8,Ng5,g6,Qb2,Nd5,Bxd5,exd5,Nf3,Nc4,Qc3,Bxc5,Nbd2,Re8,Bxc5,Qxc5,Nxc4,Bc6,Nfe5,dxc4,Ng4,Re6', 'Nh6+,Kf8,Qh8+,Ke7,Qxa8', 'https://lichess.org/training/eDUic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EDuS5', 'Rapid', 'istinetz', 1943, 'zotron', 1889, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Nc6,exf7+,Kxf7,Nc3,Bc5,h3,Re8+,Be2,Nd4,d3,Re5,Be3,Nxe2,Ngxe2,Bxe3,fxe3,Rxe3,Rf1,Rxd3,Qc2,Kg8,Nd5,Rxd5,cxd5,Qxd5,Qxc7,Qxg2,Qd8+,Kf7,Rc1', 'Qxf1+,Kxf1,Bxh3+', 'https://lichess.org/training/EDuS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('edusp', 'Rapid', 'sumitg', 1786, 'Pogran', 1877, 'd4,d5,e3,Nf6,Nf3,e6,Bd3,Be7,O-O,O-O,c4,b6,cxd5,exd5,Qc2,h6,Nc3,Bb7,e4,Nxe4,Nxe4,dxe4,Bxe4,Bxe4,Qxe4,Nd7,Qg4,Nf6,Qg3,Ne4,Qg4,f5,Qg6,Rf6,Qh5,Qe8,Qh3,Bd6,Ne5,Bxe5,dxe5,Qxe5,Qb3+,Kh8,f3,Qd4+', 'Be3,Qe5,fxe4', 'https://lichess.org/training/edusp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eduvV', 'Rapid', 'spsingh1987', 1704, 'protas', 1677, 'c4,g6,Nc3,Bg7,Qc2,Nf6,Nf3,d6,d3,e5,g3,O-O,Bg2,Re8,O-O,Bd7,a3,Qc8,Ng5,h6,Nxf7,Kxf7,Qb3,Kf8', 'Bxb7,Qd8,Bxa8', 'https://lichess.org/training/eduvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EDvbR', 'Classical', 'fallenxxxsky', 1957, 'Vlad58', 1947, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Bb4+,c3,dxc3,bxc3,Bc5,Bxf7+,Kxf7,Qd5+,Kf8,Qxc5+,Nge7,O-O,d6,Qc4,h6,Ba3,Ng6,Re1,Nge5,Nxe5,Nxe5,Qd5,Qg5,Re3,Ke7,Rg3,Qf6,Nd2,h5,Nf3,h4,Rg5,Nxf3+,gxf3,Be6,Bxd6+,cxd6,Qxb7+,Bd7,f4,h3', 'e5,dxe5,Rxe5+,Qxe5,fxe5', 'https://lichess.org/training/EDvbR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eDvjZ', 'Rapid', 'raymont', 1878, 'abolith', 1861, 'Nf3,g6,d4,Bg7,c4,d6,Nc3,Nd7,g3,h6,Bg2,a6,Qc2,e5,d5,Ngf6,O-O,O-O,e4,Rb8,b4,c6,h3,b5,dxc6,Nb6,cxb5,Qc7,Be3,d5,exd5,Nfxd5,Rac1,Nxb4,Qb1,N6d5,Nxd5,Nxd5,Nd2,Rxb5,Qd3,Be6,Rc5,Rd8,Rxb5,axb5,Qxb5', 'Nxe3,fxe3,Rxd2', 'https://lichess.org/training/eDvjZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EdwR2', 'Rapid', 'HiImSever', 2100, 'ricardobel1956', 2241, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,c6,e3,Nbd7,Bd3,Bd6,Qc2,h6,Bh4,O-O,Nf3,Qc7,O-O,Ng4,Bg3,Bxg3,hxg3,Re8,Bf5,Ngf6,Rac1,Qd6,Ne2,Nf8,Ne5,N6h7,Bxc8,Raxc8,Qb3,Rc7,Nf4,f6,Nf3,Ng5,Nxg5,fxg5,Nd3,Ng6,Qb4,Qf6,Qa5,b6,Qa3,Ree7,Nb4,Nh8,Rc2,Qe6,Rfc1,c5,dxc5,bxc5,Rxc5,Rxc5,Rxc5,d4,Qb3,Qxb3,axb3,dxe3,fxe3,Rxe3,Rc8+,Kh7,Nd5,Rxb3,Rc7,Rxb2,Rxa7,Rb1+,Kh2,Rf1,Ne3,Rf2,Ng4,Rf5,Ne3,Rf8,Kh3,Ng6,Nd5,Rf1,Ne3,Rf8,Rb7,h5,g4,Nf4+,Kg3,h4+,Kh2,Kh8,Nf5,g6,Ne7,Re8,g3,hxg3+,Kxg3,Ra8,Rb3,Ra7,Nc6,Ra6,Ne5,Kg7,Rb7+,Kf6', 'Nd7+,Ke6,Nc5+,Kd6,Nxa6', 'https://lichess.org/training/EdwR2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Edyjx', 'Rapid', 'NithishB', 1808, 'black_mover', 1614, 'e4,e5,Nf3,d6,Bc4,Qf6,Nc3,c6,O-O,Be7,d4,exd4,Qxd4,Qg6,e5,Bh3,Nh4,Bxh4,Bxf7+,Kxf7,e6+,Ke7', 'Qxh4+,Nf6,Qxh3', 'https://lichess.org/training/Edyjx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ee2xD', 'Rapid', 'timuru', 1897, 'EvgeniySPb', 1901, 'd4,d5,c4,c6,Nc3,e6,e4,dxe4,Nxe4,Nf6,Nc3,Be7,Nf3,Bd7,Bd3,O-O,O-O,Na6,a3,Nc7,b4,b5,Re1,a5,Bb2,bxc4,Bxc4,Ncd5,Ne5,Ne8,Nxd7,Qxd7,b5,Bf6,Ne4,cxb5,Bxd5,Qxd5,Nxf6+,Nxf6,Re5,Qb7,g4,Rac8,g5,Nd5,Qf3,Qe7', 'Qxd5,exd5,Rxe7', 'https://lichess.org/training/Ee2xD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eE3Tj', 'Classical', 'rouf17', 1670, 'saadatinia', 1699, 'd4,d5,e3,c5,c4,cxd4,exd4,dxc4,Bxc4,Nf6,Nf3,a6,O-O,Bg4,Be2,Nc6,Ne5,Nxe5,dxe5,Qxd1,Bxd1,Bxd1,exf6,Bc2,fxg7,Bxg7,Na3,Bg6,Nc4,O-O,Be3,Bd3,Rfc1,Bxc4,Rxc4,Bxb2,Rb1,b5', 'Rg4+,Kh8,Rxb2', 'https://lichess.org/training/eE3Tj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ee4bX', 'Blitz', 'faros', 1707, 'Barabbass', 1698, 'e4,e5,d3,d5,exd5,c6,dxc6,Nxc6,Be3,Nf6,Nf3,Bg4,Be2,Bb4+,c3,Ba5,O-O,O-O,b4,Bb6,Bxb6,Qxb6,Nbd2,Bxf3,Bxf3,Rad8,Nc4,Qa6,Qc2,Rfe8,a4,b5,Ne3,bxa4,Rxa4,Qb6,Nc4,Qc7,Bxc6,Qxc6,Rxa7,e4,Qa4,Qxa4,Rxa4,exd3,Rd1,Ne4,Ra3,d2,Ne3,Rd7,c4,g6,Nd5,Nd6,Rc3', 'Re1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/ee4bX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ee7eQ', 'Classical', 'KONJ2016', 1725, 'jackches', 1709, 'e4,e5,Bc4,Nh6,d3,Nc6,Bxh6,gxh6,Nf3,Ne7,Nxe5,d5,exd5,c6,dxc6', 'Qa5+,Nd2,Qxe5+', 'https://lichess.org/training/Ee7eQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ee8eJ', 'Classical', 'ravi1726', 1734, 'Ahmadreda', 1732, 'e4,e5,g3,Nf6,d3,Bb4+,c3,Ba5,Bg5,Nc6,Bg2,d6,Nd2,Qd7,Bxf6,gxf6,Ngf3,Qe7,Nc4,Bb6,Nxb6,cxb6,Qa4,Bd7,Qc2,Bg4,O-O,O-O-O,d4,exd4,Nxd4,h5,e5,fxe5,Nxc6,bxc6,Bxc6,Qc7,Qa4,a5,Qb5,Bd7', 'Qa6+,Kb8,Qa8#', 'https://lichess.org/training/ee8eJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ee8Ok', 'Rapid', 'Butron', 1937, 'birtylove', 1939, 'd4,Nf6,Nc3,e6,a3,d5,Bg5,Be7,e3,Nbd7,Nf3,O-O,Bd3,c5,dxc5,Nxc5,h3,Nxd3+,cxd3,b6,O-O,Ba6,Re1,Rc8,d4,h6,Bh4,g5,Bg3,Ne4,Nxe4,dxe4,Nd2,f5,Qh5,Kh7,f4,Rc2,Nf1,Qc7', 'fxg5,Bxg5,Bxc7', 'https://lichess.org/training/Ee8Ok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EE8VZ', 'Rapid', 'danjames', 1738, 'cristoper', 1650, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,Bb5+,Bd7,Qe2+,Be7,dxc5,Nc6,Ngf3,a6,Bxc6,bxc6,O-O,Nf6,Re1,h6,Nb3,Bf5,Nfd4,Bd7,Bf4,Kf8,Qxe7+,Qxe7,Bd6,Qxd6,cxd6,Ne4,Re2,Nxd6,Nc5,Bf5,Rae1,g6,Nxc6', 'Rc8,Nb4,Rxc5', 'https://lichess.org/training/EE8VZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eE9m2', 'Blitz', 'CIMSHM111', 1779, 'Paulj1s', 1780, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bg5,e6,Qd3,Be7,Ndb5,a6,Nd4,Ne5,Qg3,h6,Be3,Ng6,f4,Nh5,Qg4,e5,Nf5,Bxf5,exf5,Qd7,Qxh5,exf4,fxg6,fxe3,gxf7+,Kf8,Nd5,Bg5,h4,Qf5,hxg5', 'Qf2+,Kd1,Qd2#', 'https://lichess.org/training/eE9m2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ee9rF', 'Blitz', 'retiro', 1603, 'dorhinj1', 1681, 'd4,Nf6,Nf3,c5,e3,d5,c4,Nc6,Nc3,dxc4,Bxc4,cxd4,exd4,e6,O-O,Bd6,d5,exd5,Re1+,Ne7,Nxd5,O-O,Nxf6+,gxf6,Bh6,Re8,Nh4,Ng6,Rxe8+,Qxe8,Nxg6,Bxh2+,Kxh2,hxg6,Qf3,Qe5+,g3,Bf5,Bxf7+,Kh7,Qxb7,Be4,Bd5+,Kxh6,Qxa8', 'Qh5+,Kg1,Qh1#', 'https://lichess.org/training/Ee9rF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EEa51', 'Classical', 'Chakka-Unit', 1839, 'KirillKorotkiy', 1868, 'e4,c5,d4,cxd4,e5,Nc6,f4,d6,exd6,Qxd6,Nf3,Nf6,c3,Bg4,Be2,e6,cxd4,Bxf3,Bxf3,Nxd4,Bxb7,Rb8,Qa4+,Qd7,Qxa7,Rxb7,Qa8+,Ke7,Na3,Ra7,Qb8,Rxa3,bxa3,Nc2+,Ke2,Nxa1,a4,Nc2,Rd1,Nd5,Rd2,Nce3,Ba3+,Kf6', 'Qe5+,Kg6,Qg5#', 'https://lichess.org/training/EEa51');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EeAH6', 'Bullet', 'IM EmmanuelJimenez', 2640, 'Mistango', 2491, 'd3,d5,Nf3,e6,Nbd2,Nc6,e4,Nf6,Be2,dxe4,dxe4,Bc5,O-O,O-O,c3,e5,Qc2,Bg4,h3,Bh5,b4,Bb6,Re1,a6,Nh2,Bxe2,Rxe2,Qd7,Nc4,Rad8,Nxb6,cxb6,Bg5,Qe6,Ng4,Nxg4,Bxd8,Rxd8,hxg4,Qxg4,f3,Qg5,Rd1,Re8,Qd2,Qg3,Qd7,Rf8,Qxb7,Nd8,Qxb6,Ne6,Qf2,Qg5,Red2,Nf4,Kf1,h5,g3,Ne6,Ke2,g6,Rh1,Kg7,Rh3,Rc8,Qe3,Qxe3+,Kxe3,Rxc3+,Rd3,Rc2,f4,exf4+,gxf4,Rxa2,Rb3,Rg2,Rf3,Rg4,Ra3,h4,Rxa6,g5,fxg5,Nxg5,Rf4,Rg3+,Kf2', 'Nh3+,Ke2,Nxf4+', 'https://lichess.org/training/EeAH6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EEAuP', 'Blitz', 'Satoor', 2222, 'MrPatate', 2217, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Nc6,O-O,Bg4,c3,Nge7,h3,Bh5,Be3,f5,b4,Qd7,Bg5,h6,Bxe7,Nxe7,Nbd2,O-O-O,a4,g5,Qb3,Ng6,b5,g4,hxg4,fxg4,Ne5,Bxe5,dxe5,Nxe5,Be2,Nf3+,Bxf3,gxf3,a5,Qg7,g3,Qg4,c4,Rhf8,Kh2,Bg6,b6,Qh5+,Kg1,cxb6,axb6,a6,cxd5,Be4,Rfc1+,Kb8,Rc3,Bxd5,Qa3,Qf5,Nf1,Qh3,Ne3,Rfe8,Rc8+,Kxc8,Qc5+,Kb8', 'Qc7+,Ka8,Rxa6+,bxa6,Qa7#', 'https://lichess.org/training/EEAuP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eeaYo', 'Classical', 'pawnambush', 1658, 'arturbalasyan10', 1622, 'e3,g6,d4,Bg7,c4,e6,Nc3,Ne7,Nf3,b6,Be2,Bb7,O-O,d6,a4,Nd7,a5,O-O,a6,Bc8,b4,c6,b5,c5,Ra2,cxd4,Nxd4,Nc5,Bf3,Rb8,Nce2,d5,Qc2,e5,Nb3,e4,Nxc5,bxc5,Bxe4,dxe4,Nf4,Bf5,Bb2,f6,Ba3,Qb6,h3,Bh6,g4,Bxf4,gxf5,Be5,fxg6,Nxg6,Qxe4,Rbe8,Qd5+,Rf7,Bxc5,Qc7,Rb1,Rd8,b6,axb6', 'Bxb6,Rxd5,Bxc7', 'https://lichess.org/training/eeaYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EeCf7', 'Rapid', 'nrm45', 1572, 'dmv0809', 1567, 'e4,Nc6,c3,e5,Nf3,Bc5,Bc4,h6,b4,Bd6,d3,a6,h3,Nf6,O-O,O-O,Re1,b5,Bb3,a5,bxa5,Nxa5,Nh4,Nxb3,Qxb3,Nxe4,Rxe4,Bb7,Rg4,h5,Nf5,hxg4,Nxd6,cxd6,hxg4,Qf6,Qxb5,Ba6,Qxd7,Bxd3,g5,Qg6,Na3,Rad8,Qh3,e4,Be3,f6,Qe6+,Kh8,gxf6,Rxf6,Qh3+,Kg8,c4,Kf7,Bd4,Rf5,Re1,Rh5,Qg3,Rg5,Qf4+,Ke6,g3,Rh8,Nb5,Rgh5,Qxd6+,Kf7,Qd7+,Kg8,Qd8+,Kh7,Qe7,Re8,Qd6,Qh6,Qxh6+,Rxh6,Be3,Rh5,Nd6,Rh8,Nf7,Rf8,Ng5+,Kg6,Ne6,Rfh8,Nf4+,Kf5,Nxh5,Rxh5,Kg2,Bxc4,a4,Kg4,Rc1,Bb3,Ra1,Ra5,Rh1,Bxa4', 'Rh4+,Kf5,Rh5+,g5,Rxg5+,Kf6,Rxa5', 'https://lichess.org/training/EeCf7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EecUe', 'Rapid', 'Kornaykhov_02-08', 1934, 'theking1989', 1798, 'c4,e5,Nc3,Nc6,Nf3,Nf6,g3,Bb4,Nd5,Be7,Bg2,d6,O-O,Be6,Nxe7,Qxe7,b3,O-O,Qc2,h6,Rd1,Rad8,d4,exd4,Nxd4,Nxd4,Rxd4,c5,Rd1,b6,Bb2,d5,cxd5,Nxd5,Bxd5,Rxd5,Rxd5,Bxd5,Qc3,f6,Qd3,Rd8,Rd1,Qd7,e4,Bc6', 'Qc4+,Kf8,Rxd7', 'https://lichess.org/training/EecUe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eEeLY', 'Blitz', 'MoonlightMaze', 1906, 'SeanDoc', 1813, 'e4,e6,d4,d5,Nd2,c5,c3,Nc6,exd5,exd5,dxc5,Bxc5,b4,Bb6,a4,a6,Ngf3,Nf6,Bd3,O-O,O-O,Bg4,h3,Bh5,Qc2,Bc7,Nb3,Qd6,g4,Bg6,Be3,Ne4,Bxe4,dxe4,Rfd1,Qf6,Nfd4,Ne5,Qe2,Qh4,Kg2,Nd3,Nc1,Rfe8,Nxd3,exd3,Qf3,Rad8,Ra2,h5,Rad2,hxg4,Qxg4,Be4+,Kf1,Qf6,Bg5,Qd6,Bxd8,Qh2,Bxc7', 'Qh1+,Qg1,Bg2#', 'https://lichess.org/training/eEeLY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EefK0', 'Blitz', 'mirkoz', 1866, 'idris300', 1804, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,g6,Be3,Bg7,Be2,e5,Nf3,Nf6,h3,O-O,O-O,Be6,a3,Rc8,Qd2,Re8,Rad1,Nd4,Nxd4,exd4,Bxd4,Qc7,Bxf6,Bxf6,Qxd6,Qa5,Bd3,Red8,Qb4,Qh5,Be2,Qg5,Rxd8+,Rxd8,f4,Bd4+,Kh1,Qg3,Bf3,Bxh3,Ne2', 'Bxg2+,Bxg2,Qh4+,Bh3,Qxh3#', 'https://lichess.org/training/EefK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EefyH', 'Blitz', 'Evgeniy8777', 1625, 'mastran', 1611, 'e4,e5,f4,d5,exd5,e4,Nc3,f5,Bb5+,Bd7,Bxd7+,Nxd7,d3,Ndf6,dxe4,Nxe4,Nf3,Bc5,Na4,Bf2+,Kf1,Ngf6,Qe2,Qxd5,Be3,Bxe3,Qxe3,Ng4,Qe2,O-O,Rd1,Qa5,Qc4+,Kh8,Rd7,b5,Qxc7,Qxa4,Rxg7,Ne3+,Kg1,Nf6,Ng5,Qd4', 'Rxh7+,Nxh7,Qxh7#', 'https://lichess.org/training/EefyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eEG54', 'Blitz', 'Volganin34', 2379, 'FM purepecha1', 2423, 'd4,e6,Nf3,d5,Bf4,c5,c3,Nc6,e3,Nf6,h3,a6,Nbd2,Bd6,Bxd6,Qxd6,dxc5,Qxc5,Be2,e5,O-O,h6,Rc1,O-O,c4,d4,exd4,Nxd4,Nb3,Nxb3,Qxb3,Re8,Qc3,Ne4,Qe3,Qxe3,fxe3,Ng3,Rfe1,Bf5,c5,Be4,Nd2,Bc6,Bf3,e4,Be2,Re5,b4,h5,Bc4,Rd8,Nb3,Nf5,Kf2,h4,Rcd1,Rde8,Na5,Ba4,Rd2,R5e7,Rd5,g6,Bb3,Bxb3,Nxb3,Ng3,a4,Re5,Red1,R8e6,b5', 'Rf6+,Ke1,Rf1+', 'https://lichess.org/training/eEG54');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eeGKz', 'Classical', 'djoric', 1666, 'rinki0072001', 1783, 'e4,e6,e5,c5,Nf3,Nc6,c3,Qc7,d4,d6,Bb5,Ne7,O-O,h6,b3,a6,Be2,dxe5,dxe5,Nxe5,Nh4,Nd5,f4,Be7,Nf5,exf5,fxe5,Qxe5,Bb2,Ne3,Qe1,Nxf1', 'Bb5+,axb5,Qxe5', 'https://lichess.org/training/eeGKz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EEIbN', 'Blitz', 'Hassan666', 1714, 'mtf1512021', 1675, 'd4,d5,e3,Nc6,Nf3,Nf6,b3,g6,Bb2,Bg7,Nbd2,b6,Ne5,Bb7,a3,O-O,Bd3,Nd7,f4,Ncb8,O-O,f6,Ng4,Bc8,c4,Bb7,cxd5,Bxd5,Nc4,Be6,f5,gxf5,Bxf5,Bxf5,Rxf5,Qc8,Rh5,Rf7,Qf3,c6,Qg3,Nf8,Nh6+,Kh8,Nxf7+,Kg8,Nh6+,Kh8,Rf1,Ne6,Nf7+,Kg8,Nh6+,Kh8,Nf5,Qg8,Nxe7,Qf7,Qh3,Qxe7,Rxh7+,Kg8,e4,Nd7,Bc1,Ndf8,Rh5,Ng6,e5,fxe5,dxe5,Rf8,Rxf8+,Qxf8,Qxe6+,Qf7,Qc8+,Nf8,Rf5,Qe7,Nd6,Bxe5,Nf7,Qc5+,Rf2', 'Qxc1+,Rf1,Bd4+,Kh1,Qxf1#', 'https://lichess.org/training/EEIbN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eeiFw', 'Blitz', 'ljdr', 2470, 'GM S_Guliev', 2479, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nbd7,g4,b5,Bxf6,Nxf6,g5,Nd7,f5,Bxg5+,Kb1,Ne5,Qh5,Bf6,fxe6,g6,Nd5,Qd8,Qe2,fxe6,Nxf6+,Qxf6,h4,O-O,Bh3,Bd7,a3,Rae8,Rdf1,Qg7,Rxf8+,Qxf8,h5,g5,h6,Qf6,Qh5,Ng6,Nf3,Rf8,Nxg5,Nf4,Qg4,Kh8,Rf1,Bc8,Nxh7,Kxh7,Rxf4,Qxh6,Rxf8,Qxf8,Qh4+,Kg7,Qg5+,Kf7,Bg4,Ke8,a4,bxa4,Bh5+,Kd7,Qa5,Qf1+,Ka2,Qc4+,Kb1,Qxe4,Qb6,Qc6', 'Be8+,Kxe8,Qxc6+', 'https://lichess.org/training/eeiFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eEin2', 'Rapid', 'Grzybiarz85', 1808, 'feeroldent', 1836, 'b3,g6,Bb2,Nf6,e4,Bg7,e5,Nd5,d4,e6,Bc4,Ne7,f4,c5,Nf3,cxd4,Qxd4,Nbc6,Qd2,O-O,Nc3,b6,O-O-O,Qc7,Nb5,Qd8,Nd6,a5,a4,Ra7,g4,Bb7,Rhg1,Nc8,Nxb7,Rxb7,h4,N8a7,h5,Qc7,Qh2,g5,Nxg5,b5,axb5,Nxb5,Bxb5,Rxb5,Rg3,Nb4,c4,a4,Kb1,Rc5,Ne4,Rc6,h6,Bh8,Qh4,f6,exf6,axb3,f7+,Kxf7,Nf6,d6,Rxb3,Rxc4,Qh5+,Ke7,Qg5', 'Bxf6,Bxf6+,Rxf6,Qg7+,Rf7', 'https://lichess.org/training/eEin2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EEITq', 'Rapid', 'Ar3cki', 1750, 'mefistofel82', 1761, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,Nf3,h6,Bh4,c6,e3,O-O,cxd5,exd5,Be2,Bf5,O-O,Nbd7,Rc1,Qb6,b3,Rfe8,Bg3,Ne4,Nxe4,Bxe4,Bd3,Nf6,h3,Bxd3,Qxd3,Ne4,Be5,Bd6,Bxd6,Nxd6,Ne5,Qd8,a4,Rc8,f3,Qb6,Rfe1,Qd8,g4,Qg5,Qd2,Rcd8,Qh2,Nf5', 'f4,Qe7,gxf5', 'https://lichess.org/training/EEITq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eejXd', 'Rapid', 'Alouimaher', 1939, 'faulknerw', 1757, 'd4,d5,Bf4,Nf6,e3,Bg4,Be2,Bxe2,Nxe2,e6,Nd2,c5,c3,Be7,h3,h6,O-O,O-O,Bh2,Nc6,Rb1,cxd4,exd4,Rc8,Re1,Bd6,Bxd6,Qxd6,Nc1,b5,Nd3,Rfe8,a3,a5,Ne5,b4,axb4,axb4,Rc1,bxc3,bxc3,Nd7,Nxd7,Qxd7,Nf3,Qc7,Qd2,e5,dxe5,Nxe5,Qxd5,Nxf3+,Qxf3,Rxe1+,Rxe1,Qxc3', 'Re8+,Rxe8,Qxc3', 'https://lichess.org/training/eejXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eek6i', 'Classical', 'maverick_IM', 1931, 'DJ__Chess', 2217, 'e4,e5,Nf3,Nc6,Be2,Nf6,Nc3,Bc5,Nxe5,Bxf2+,Kxf2,Nxe5,d4,Ng6,h4,h5,Bg5,d6,g3,Bg4,Bxg4,Nxg4+,Kg2,f6,Bd2,Qe7,Qf3,O-O-O', 'Qf5+,Kb8,Qxg6', 'https://lichess.org/training/eek6i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eELkj', 'Rapid', 'ThatesMate1900', 1786, 'shagnik', 1787, 'e4,e5,Bc4,Nf6,Nc3,Nc6,d3,Bb4,Nf3,d5,exd5,Nxd5,Bd2,Bxc3,Bxc3,Nxc3,bxc3,O-O,Qd2,h6,O-O,Be6,Bb5,Ne7,Nxe5', 'Qd5,Bc4,Qxe5', 'https://lichess.org/training/eELkj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EElRo', 'Rapid', 'Lengerso', 1815, 'Temprior', 1786, 'e4,c5,Nf3,g6,Nc3,Bg7,b3,a6,Bb2,b5,e5,Bb7,d4,cxd4,Qxd4,Nc6,Qf4,e6,O-O-O', 'Bh6,Qxh6,Nxh6', 'https://lichess.org/training/EElRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EEmky', 'Blitz', 'FM sstrb', 2588, 'marin_88', 2435, 'e4,c5,Nf3,Nc6,Bb5,g5,Nxg5,Nf6,d3,Rg8,O-O,h6,Nf3,d5,e5,Bh3,Ne1,Nd7,Bxc6,bxc6,Qh5,Bg4,Qh4,Nxe5,f4,Nd7,f5,e6,Qxd8+,Rxd8,fxe6,fxe6,Bf4,e5,Bg3,Bd6,Nd2,h5,Nef3,Rb8,b3,Ke7,Rae1,Ke6,Kh1,Rbf8,Re2,Rf5,Rfe1,Rgf8,h3,Bxh3,gxh3,Rxf3,Nxf3,Rxf3,Kg2,Rf7,Rf1,Rg7,Kh2,h4,Bxh4,e4+,Kh1,Rh7,dxe4,Rxh4,exd5+,Kxd5,Rd1+,Rd4', 'c4#', 'https://lichess.org/training/EEmky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eenIS', 'Rapid', 'nork', 2014, 'jardiwelo', 2099, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Nc6,O-O,Nf6,c3,Bxf3,Bxf3,e6,Nd2,Bd6,Nb3,O-O,Be3,Rc8,Qd2,Qc7,g3,Rfe8,Rae1,a5,a3,a4,Nc1,Na5,Nd3,Nd7,Bf4,Nc4,Qc1,Qb6,Bxd6,Qxd6,Bd1,b5,f4,Nf6,Bf3,Qb6,Qd1,h6,Kg2,Nd7,Re2,Qd6,Rfe1,Rcd8,Rh1,f6,h4,e5,dxe5,fxe5,fxe5,Ndxe5,Nxe5,Nxe5,Rhe1,Re7,Qd4,Rde8,Qxd5+,Qxd5,Bxd5+,Kh8,Bf7,Rxf7,Rxe5,Rxe5,Rxe5,Rb7,h5,Kg8,Rf5,Rb6,Kf3,Rb7,Kf4,Rb6,g4,Rb8,Ke4,Re8+,Kd4,g6,hxg6,Re2,Rxb5,Rg2,c4,Rxg4+,Ke5,Rxg6,Kf5,Rg2,c5,Kg7,c6', 'Rg5+,Ke6,Rxb5,c7,Rc5', 'https://lichess.org/training/eenIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eenvQ', 'Classical', 'Bunag', 1615, 'fogbone', 1839, 'g3,e5,Bg2,d5,b3,Nf6,Bb2,Bd6,e3,c6,Ne2,Be6,d3,Nbd7,Nd2,Qa5,Bc3,Bb4,Bxb4,Qxb4,c3,Qd6,O-O,Nc5,Qc2,O-O,b4,Ncd7,f4,Bg4,Rf2,e4,dxe4,dxe4,Nxe4,Nxe4,Bxe4,f5,Rd1,Qe6,Nd4', 'Qxe4,Qxe4,fxe4', 'https://lichess.org/training/eenvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eEOli', 'Rapid', 'Dr____Frankenstein', 1693, 'Isatai_1337', 1696, 'd4,d5,c4,e5,cxd5,Qxd5,Nc3,Qxd4,Qxd4,exd4,Nb5,Nc6,Nxc7+,Kd7,Nxa8,Nb4,Kd1,Bc5,Nf3,b6,Ne5+,Ke6,f4,f6,Nd3,Nxd3,exd3,Ne7,g3,Bb7,Rg1,Bxa8,Bg2,Bxg2,Rxg2,Kf7,Bd2,Nd5,a3,Re8,b4,Bd6,Kc2,Re3,Re1', 'Rxe1,Bxe1,Ne3+', 'https://lichess.org/training/eEOli');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EeOph', 'Rapid', 'vmzmail', 1910, 'karaya2', 1825, 'e4,a6,d4,b5,Nc3,Bb7,Nf3,e6,Bd3,Nf6,Be3,b4,e5,bxc3,exf6,Qxf6,bxc3,Bd6,Kd2,Nc6,Rb1,Rb8,Rb3,O-O,Qe2,Na5,Rb2,Bd5,Rhb1,Rxb2,Rxb2,Bxf3,gxf3,Bxh2,Bxa6,Ra8,Bd3,Bd6,a4,h5,Rb1,g6,Rh1,Nc6,Bb5,Bf4,Qf1,Bxe3+,fxe3,Qe7,Qg1,Kh7,f4,Na5,Bd3,c6,e4,d5,f5,dxe4', 'fxg6+,fxg6,Bxe4', 'https://lichess.org/training/EeOph');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eepic', 'Rapid', 'jkf11', 1826, 'Oscaraios', 1767, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Be6,Bc4,Bxc4,Nxc4,Nf6,Bg5,Be7,Bxf6,Bxf6,Nxd6+,Kf8,Qd5,Qe7,O-O-O,Rd8,Na4,Nd4,Nf5,Qd7,Qc5+,Kg8,Nb6', 'Ne2+,Kb1,Qxd1+,Rxd1,Rxd1#', 'https://lichess.org/training/Eepic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eePMN', 'Blitz', 'Ilev', 2329, 'NM Insterburg', 2487, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,Re1,e5,Bxc6,dxc6,d3,b6,a4,a5,b3,Bg4,Nbd2,Nf6,h3,Bxf3,Nxf3,Nd7,Bb2,Qe7,Nd2,Nf8,Nc4,Qc7,f4,Nd7,Rf1,b5,Nxe5,Nxe5,fxe5,Bxe5,Bxe5,Qxe5,Qf3,O-O,Qf6,Qc7,Qc3,Qe7,Rf6,b4,Qb2,Rac8,Raf1,Rc7,Qc1,Kg7,Qf4,Qd8,Rd6,Qe7,e5,Re8,Re1,Kg8,Kh2,f5,Qc4+,Kg7,Qxc5,Qh4,g3,Qg5,Qe3,Qe7,Re2,c5,Qf3,Rd7,Rxd7,Qxd7,Qe3,Qd4,Kg2,Qxe3,Rxe3,Kf7,Kf3,Ke6,Kf4,Kd5,h4,Re7,Kg5,Rxe5,Rxe5+,Kxe5,Kh6,Kd4', 'Kxh7,Kc3,Kxg6,Kxc2,h5,Kxd3,h6', 'https://lichess.org/training/eePMN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EEQyY', 'Rapid', 'Kotomtom02', 2040, 'akashi25', 1916, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nf3,Qe7,Be2,Bxc4,Qa4+,b5,Qd1,Nc6,O-O,Bxe2,Qc2,Bxf3,gxf3,Qd7,Re1+,Be7,d4,O-O,Be3,Nd5,Nc3,Qd6,Nxb5,Nxe3,fxe3,Qh6,Nxc7,Rac8,Nd5,Nxd4,Nxe7+,Kh8,Qg2,Rc2,Qg3,Nxf3+,Qxf3,Qxh2+,Kf1,Rxb2,Nf5,Rc8,Ng3,Qh3+,Kg1,h6,Re2', 'Rxe2,Qxe2,Qxg3+', 'https://lichess.org/training/EEQyY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EErXZ', 'Rapid', 'brendan14', 1818, 'TAJBO4', 1909, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Qa5,Qb5+,Qxb5,Nxb5,Na6,d4,c6,Na3,Bf5,c3,Nc7,Bf4,O-O-O,Nf3,f6,Nc4,g5,Bg3,h5,O-O-O,Nd5,h4,g4,Nfd2,Bg6,f4,gxf3,Nxf3,Be4,Bd3,Bxf3,Bf5+,Rd7,Bxd7+,Kxd7,gxf3,Nh6,Rhe1,Nf5,Bf2,Kc7,Ne3,Ndxe3,Bxe3,Nxh4,Bf4+,Kb6,Rd3', 'Ng2,Bd2,Nxe1', 'https://lichess.org/training/EErXZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EETCe', 'Rapid', 'mb513', 1620, 'Shura73', 1606, 'e3,e5,d4,exd4,Qxd4,Nc6,Qe4+,Nge7,Bc4,d6,Qf3,Be6,Bxe6,fxe6,Nh3,Nf5,e4,Nh4,Qh5+,Ng6,Bg5,Be7,Bxe7,Qxe7,O-O,O-O-O,Nc3,Nge5,Qe2,h6,a4,a6,Nf4,g5,Nd3,Nc4,b3,Nb6,Rab1,d5,exd5,Nxd5,Nxd5,Rxd5,c4,Rd4,Ne5,Nxe5,Qxe5,Rdd8,Rfe1,h5,Qxe6+,Qxe6,Rxe6,g4,g3,Rdg8,c5,h4,c6,b6,b4,hxg3,hxg3,Rh5,Rbe1,Kd8,Rd1+,Kc8,Rde1,Kd8,b5,a5,Re7', 'Rgh8,Rd7+,Kc8,f3,Rh1+', 'https://lichess.org/training/EETCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EeTPz', 'Classical', 'V52', 1853, 'Alex_Bjorn2000', 1876, 'e4,c5,Nf3,d6,Bb5+,Nc6,Bxc6+,bxc6,a4,Bg4,h3,Bh5,a5,Nf6,Qe2,e5,O-O,Be7,d3,h6,a6,O-O,c4,Rb8,Nbd2,Nh7,Qd1,Ng5,Qa4,Nxf3+,Nxf3,Bxf3,gxf3,Qd7,Kh2,f5,exf5,Rxf5,Rg1,Kh7,Qd1,Rh5,Qf1,Rf8,Qg2,Qf5,Qg4,Qxg4,fxg4,Rxf2+', 'Rg2,Rxh3+,Kxh3', 'https://lichess.org/training/EeTPz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EEtsy', 'Rapid', 'Hnunes', 1975, 'aplhabr007', 1612, 'c4,e6,g3,Nf6,Bg2,d5,Nf3,dxc4,Qa4+,Bd7,Qxc4,a6,Qc2,Bc6,Nc3,Be7,O-O,O-O,d4,b5,a3,a5,Bf4,Na6,Na2,Qd5,Nh4,Qc4,Qxc4,bxc4,Bxc6,Rab8,Rab1,Rb6,Bg2,Rfb8,Nc3,Nh5,Nf3,Nxf4,gxf4,Rxb2,Rxb2,Rxb2,e3,Bxa3,Ne5,Bb4,Na4,Ra2,Bc6,c3,Nd3,c2,Kg2,Bd2,Bb5,Nb4,Nxb4,axb4,Bc4,Rxa4,Bb3,c1=Q,Rxc1,Bxc1,Bxa4,Kf8,Kf3,Ke7,Ke2,Kd6,Bb3,c5,dxc5+,Kxc5,Kd3,Bb2,f3,g6,h4,Bc3,e4,h5,Ba4,Be1,Be8,b3,Bxf7,Kb4,Bxe6,Ka3,Bc4,b2,Kc2,Kb4,Bf7,Ka3,Bxg6,Bxh4,Bxh5,Bf6,e5', 'Ka2,Bf7+,Ka1,exf6,b1=Q+', 'https://lichess.org/training/EEtsy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eEUfZ', 'Rapid', 'super_sergio777', 1672, 'Torzhok', 2128, 'e4,e5,Nf3,Nc6,Bc4,Nf6,c3,Nxe4,O-O,d5,Bb3,Be6,Re1,Bd6,d3,Nf6,Bg5,h6,Bh4,O-O,d4,e4,Nfd2,Bxh2+,Kxh2,g5,Bg3,Ng4+,Kg1,f5,c4,Nxd4,cxd5,Bxd5,Bxd5+,Qxd5,Nc3,Qd8,Ndxe4,Nxf2,Nxf2,f4,Bh2,f3,gxf3,Nxf3+,Kg2,Nxe1+,Qxe1,Qf6,Ng4', 'Qf3+,Kg1,Qxg4+', 'https://lichess.org/training/eEUfZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eeUns', 'Bullet', 'rasfus', 2170, 'pohoda78', 2099, 'Nf3,c5,e4,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,d6,f3,Bd7,Qd2,Rc8,O-O-O,Nxd4,Bxd4,b5,h4,a5,a4,bxa4,Nxa4,Qc7,h5,Rb8,Kb1,Rxb3,cxb3,Be6,Rc1,Qb7,Nb6,Bxb3,Qxa5,Rb8,h6,Bh8,Qc3,Nxe4,fxe4,Qxe4+,Ka1,Bxd4', 'Qc8+,Rxc8,Rxc8#', 'https://lichess.org/training/eeUns');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eEVef', 'Blitz', 'sabke', 2586, 'strvhztklnlqzrthkrtn', 2559, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,Bxc6,O-O,Bc5,Nxc6,bxc6,Nd2,Nxd2,Bxd2,O-O,Qg4,Qc8,Qg3,Qf5,c3,Rab8,b3,Qc2,Be3,Bb6,Rac1,Qf5,c4,d4,Bh6,Qg6,Bf4,c5,Rfd1,Rbd8,Rd3,Rfe8,Rcd1,Qxg3,Bxg3,Ba5,f4,f6,exf6,gxf6,Kf1,Re4,Be1,Rxf4+,Kg1,Bb6,Bd2,Re4,Rf1,Rd6,Rg3+,Kf7,Bh6,Re2,Rg7+,Ke6,Rxh7,d3,Bf8,Rd7,Rxd7,Kxd7,Rd1,Ke8,Bh6,Rxa2,Rxd3,a5,Rd2,Ra1+,Kf2,a4,bxa4,Rxa4,Re2+,Kf7,Rc2,Ra3,Be3,Ra5,Ke2,c6,Rd2,Ke6,Bf4,Ra4,Rd6+,Kf5,Rxc6,Rxc4,Rxb6,Rxf4,g3,Re4+,Kf3,Re5,g4+,Kg5,h4+,Kxh4,Kf4,Rd5,Rxf6,Kh3,Rh6+,Kg2,Rh4,Rd4+,Kg5,Kf1,Kf6,Ke2,g5,Kd3', 'Rxd4+,cxd4,g6,Ke2,g7,d3,g8=Q', 'https://lichess.org/training/eEVef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eEVWm', 'Classical', 'IgMar', 1624, 'Petr_win', 1708, 'e4,e5,Nf3,Qf6,Bc4,Bc5,O-O,Nc6,a3,Nd4,Nxd4,Bxd4,d3,c6,Nd2,b5,Ba2,a5,Nf3,d6,Bg5,Qg6,Qd2,Bxb2,Rab1,Bxa3,Be3,Bb4,Qc1,Bg4,Nh4,Qf6,Bg5,Ba3,Qxa3,Qxg5,Nf5,Bxf5,exf5,c5,Qb3,Qxf5,Qxb5+,Qd7,Qc4,Nf6,Rb5,O-O,Rfb1,Qc6,Rb8,Raxb8,Rxb8,d5,Rxf8+,Kxf8,Qb3,a4,Qb8+,Qe8,Qd6+,Kg8,Qxc5,e4,dxe4,Nxe4,Qxd5', 'Nc3,Qd2,Nxa2', 'https://lichess.org/training/eEVWm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eewvb', 'Classical', 'Richy444', 1710, 'emanuelpontesarj', 1833, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Be6,d4,Nd7,Qe2,Nb6,a4,a5,Nf3,Nf6,Ng5,Qd7,O-O,O-O-O,Bd2,Nc4,Bxc4,dxc4,Bxa5,Qxd4,Nxe6,fxe6,Qxe6+,Nd7,c3,Qa7,Bb4,Bxb4,cxb4,Qd4,Na3,Qxb2,Qxc4,Nb6,Qg4+,Kb8,a5,Nc8,Rfc1,Rd2,Qf4,Rhd8,Qxc7+,Ka8,Nc4', 'Qxc1+,Rxc1,Rd1+,Rxd1,Rxd1#', 'https://lichess.org/training/eewvb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eeWyH', 'Rapid', 'ryfo384', 1788, 'muffin6228', 1779, 'd4,d5,c4,dxc4,Nf3,f6,e3,b5,a4,c6,axb5,cxb5,Nc3,Bd7,b3,cxb3,Qxb3,e6,Nxb5,Nc6,Bd2,a5,Rc1,Bb4,Bxb4,axb4,Nd6+,Ke7,Nb7,Qb6,Nc5,Nh6,Nxd7,Kxd7,d5,Na5,dxe6+,Ke7,Qd5,Rhd8,Qa2,Nc6,Qb3,Ra3,Qc4,Rd6,Nh4,Rc3,Rxc3,bxc3,Qxc3,Qb1+,Ke2,Rxe6,Qc5+,Kf7,Qd5,Ne7,Qd1,Qb7,Ke1,Rb6,Bc4+,Ke8,Ke2,Rb2+,Kd3,Nd5,Qa4+,Kf8,Rc1,Nb4+,Kc3,Na2+,Bxa2,Rxf2,Qa3+,Ke8,Qa4+,Ke7,Qd4,Rxa2,Qc5+,Kf7', 'Qc4+,Kf8,Qxa2', 'https://lichess.org/training/eeWyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EEY6V', 'Rapid', 'Chessbeginner32019', 1818, 'jthurman', 1811, 'e4,e5,f4,Nc6,Nf3,exf4,Bc4,g5,d4,g4,Bxf7+,Kxf7,Ne5+,Nxe5,dxe5,Qh4+,Kf1,Bc5,Qd5+,Ke8,Qxc5,Ne7,Bxf4,Rf8,g3,Qh3+,Kg1,b6,Qxc7,Ba6,Nc3,Rc8,Qxa7,Bc4,Qa4,Rxf4,gxf4,Qe3+,Kg2,Qd2+,Kg3,Qe3+,Kxg4,Be6+,f5,h5+,Kxh5,Bf7+,Kg4,Bh5+,Kxh5,Kf7,e6+,Kf6,e5+,Qxe5,Qh4+,Kg7,Rhg1+,Kf8,Raf1,Qh8+,Kg4', 'Rc4+,Rf4,Rxf4+,Kxf4,Qxh4+', 'https://lichess.org/training/EEY6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EeYGq', 'Blitz', 'forgetthepast', 1987, 'off_white', 2480, 'c4,c5,b3,Nf6,Bb2,g6,g3,Bg7,Bg2,O-O,Nc3,Nc6,Nf3,d6,O-O,Bd7,e3,Qc8,d4,Bh3,d5,Bxg2,Kxg2,Na5,e4,a6,Qd2,b5,cxb5,axb5,e5,b4,exf6,bxc3,Bxc3,Bxf6,Bxa5,Bxa1,Rxa1,Qf5,Bc3,Rfb8,Re1,Rb7,Qh6,f6,h4,Qxd5,Qf4,Rxa2,g4,Rc2,Ba1,Kf7,Kg3,Rxb3,Re3,Rxe3,fxe3,Ke8', 'Qa4+,Kf7,Qxc2', 'https://lichess.org/training/EeYGq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EeYLG', 'Rapid', 'vvc53', 1771, 'BasarCubukcuoglu', 1641, 'd4,Nf6,c4,c5,Nc3,Nc6,d5,Ne5,b3,e6,Bg5,Be7,e3,exd5,Bxf6,Bxf6,Nxd5,d6,Rb1,Be6,e4,Bxd5,exd5,O-O,Nf3,Re8,Nxe5,Rxe5+,Be2,Qa5+,Qd2,Qxd2+,Kxd2,Rae8,Bf3,Bg5+,Kd3,f5,g3,Kf7,h4,Bf6,Kd2,g6,Rbe1', 'Rxe1,Rxe1,Bc3+,Kxc3,Rxe1', 'https://lichess.org/training/EeYLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eeZij', 'Rapid', 'verdeckel', 2002, 'LUDO76', 2064, 'e4,c5,Nf3,Nc6,c3,Nf6,Bd3,d5,e5,Ng4,Bb5,Bd7,d4,e6,h3,Nh6,Bxh6,gxh6,O-O,Nxe5,Nxe5,Bxb5,Qh5,Qf6,Re1,Rc8,c4,Bxc4,Nxc4,dxc4,d5,Bd6', 'Rxe6+,Qxe6,dxe6', 'https://lichess.org/training/eeZij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ef0Lg', 'Blitz', 'mrshiny', 2010, 'R143_GM', 2426, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be2,Nf6,O-O,d6,Kh1,Nbd7,f4,b5,a3,Bb7,Bf3,h5,Qe2,Be7,Be3,Rc8,Rad1,h4,h3,g6,Bf2,Nh5,Bxh5,Rxh5,f5,exf5,exf5,Ne5,fxg6,fxg6,Ne6,Qd7,Ng7+,Kf7,Nxh5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/ef0Lg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EF14s', 'Rapid', 'bahaddin68', 1813, 'agustinskidelski', 1971, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,Ng4,O-O-O,Nxe3,Qxe3,O-O,h4,h5,Kb1,Nc6,Nxc6,bxc6,f3,Rb8,Be2,c5,g4,Qb6,b3,Bd4,Qd3,Qb4,Nd5,Qa3,c3,Rxb3+,axb3,Qxb3+,Kc1,Ba6,Qxa6,Bxc3,Nxc3', 'Qxc3+,Kb1,Rb8+,Bb5,Qb3+', 'https://lichess.org/training/EF14s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eF3Er', 'Rapid', 'Karopes777', 1991, 'cursed_russian', 1932, 'e4,c6,Nf3,d5,e5,Bg4,Be2,e6,d4,c5,dxc5,Bxc5,O-O,Ne7,b4,Bxb4,c3,Bc5', 'Qa4+,Nd7,Qxg4', 'https://lichess.org/training/eF3Er');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EF41x', 'Classical', 'tessathedog', 2164, 'harrychesscoach', 1994, 'd4,d5,c4,e6,Nc3,c6,cxd5,cxd5,Nf3,Nc6,Bf4,Bd6,Bxd6,Qxd6,e3,Nf6,Bd3,O-O,O-O,Bd7,Rc1,Nb4,Bb1,Rac8,a3,Nc6,Qd3,g6,Rfd1,Rfd8,e4,dxe4,Nxe4,Nxe4,Qxe4,Na5,Qh4,Ba4,Ng5,h5,Rxc8,Rxc8,Re1,Rc4,Ne4,Qxd4,Nf6+,Kh8,Qg5,Qf4,Qxf4,Rxf4,Ne4,Nc4,g3,Rf5,Nc3,Ra5,Nxa4,b5,Nc3,Nxb2,Re5,a6,a4,Nxa4,Nxa4,Rxa4,Kg2,b4,h4,a5,Rb5,Kg7,Kf3,Ra3+,Kf4,b3,Bd3,a4,Rb4,b2,Bb1,Ra1,Rxb2,a3,Rb7,a2,Bxa2,Rxa2,Kf3,Kf6,Rc7,Ra3+,Kg2,Ra5,Rb7,Rf5,Ra7,Ke5,Ra4,g5,hxg5,Rxg5', 'f4+,Kf6,fxg5+', 'https://lichess.org/training/EF41x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EF55G', 'Blitz', 'hup8', 2156, 'lavibora40', 2123, 'e4,c5,Nc3,a6,g3,b5,Bg2,Bb7,Nge2,e6,O-O,d5,exd5,exd5,d4,c4,Nf4,Nf6,Re1+,Be7,Qe2,b4,Ncxd5,Nxd5,Nxd5,Bxd5,Bxd5,Ra7,Bxc4,O-O,Bd3,Nc6,c3,bxc3,bxc3,Bf6,Qe4,g6,Qxc6,Rc7,Qxa6,Rxc3,Be3,Bxd4,Bxd4,Qxd4,Bf1,Rc2,Qd3', 'Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/EF55G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ef6Qz', 'Rapid', 'manthan28', 1973, 'Devang64', 1990, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be3,Nf6,f3,b5,a3,Bb7,Qd2,Nc6,Bd3,Ne5,O-O,Bd6,Bxb5,Bxa3,bxa3,axb5,Ndxb5,Qc6,Nd6+,Ke7,Nxb7,Qxb7,Rab1,Qc6,Rb6,Nc4,Rxc6,Nxd2,Bxd2,dxc6,Rb1,Rhd8,Be3,Rxa3', 'Bc5+,Ke8,Bxa3', 'https://lichess.org/training/Ef6Qz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EF8Xd', 'Classical', 'Vara18', 1694, 'moftres21', 1627, 'e4,e5,Nf3,Nc6,b3,Bc5,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Nd3,Qxa1,Nc3,Bd4,Ne2,Bg4,f3,Bh5,Nxd4,Qxd4,Bb2,Qd7', 'Bxg7,f6,Bxh8', 'https://lichess.org/training/EF8Xd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ef9jR', 'Rapid', 'pavc', 1798, 'Randomdudeguyhawkes', 1813, 'd4,e6,Nf3,Nc6,e3,Be7,Bd3,Nf6,O-O,O-O,h3,d5,Nh2,Ne4,Nd2,f5,f4,Bh4,Nxe4,fxe4,Be2,Rf6,Bd2,Qf8,Be1,Bxe1,Qxe1,Qf7,Qg3,Rg6,Qf2,Qf5,Bb5,Ne7,Be2,Rh6,Ng4,Rg6,Ne5,Rh6,Bg4,Qf6,Rac1,Ng6,Qe2,Nxe5,fxe5,Qg5,c4,c6,cxd5,exd5,b4,a6,Qf2,Bxg4', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/Ef9jR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EfAPA', 'Classical', 'ikshoz3', 1746, 'corentinefctpo', 1661, 'e4,e5,Nf3,d5,exd5,e4,Nd4,Bc5,c3,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,Nb3,Bb6,d4,O-O,Bg5,Nxd5,O-O,Nc6,Re1,Qf5,Bh4,Rfe8,N1d2,e3,Nf3,exf2+,Bxf2,Rxe1+,Qxe1,Nf4,Qe3,Qg4,Bg3,Ne6,Re1,Re8,Ne5,Nxe5,Bxe5,Nf4,Qxf4', 'Qxf4,Bxf4,Rxe1+', 'https://lichess.org/training/EfAPA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EFApb', 'Blitz', 'cedmart1', 2132, 'Sifousifou', 2154, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,c6,Qc2,Be7,e3,Nbd7,Bd3,Nf8,Nf3,Ne6,Bh4,h6,Ne5,Qc7,O-O,a6,a3,Bd6,Nf3,g5,Bg3,Bxg3,hxg3,Bd7,b4,O-O,Ne5,Be8,f4,g4,Kf2,Kg7,Rh1,Rh8,Rh4,h5,Rah1,Nf8,Bf5,a5,Nxg4,Nxg4+,Bxg4,axb4,Nxd5,Qd6,Nb6,Rxa3,Bxh5,b3,Qf5,Ra2+,Kf3,c5,Nc4,Bc6+,e4,Qxd4,Rg4+,Ng6', 'Rxg6+,fxg6,Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/EFApb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EfATq', 'Classical', 'ecodad', 1860, 'Joku1806', 1903, 'e4,c5,b4,e6,b5,d5,e5,c4,Nc3,a6,bxa6,Nxa6,Nb5,Qa5,Nd6+,Bxd6,exd6,Qc5,a4,Qxd6,Ba3,Qe5+,Be2,Ne7,Nf3,Qf6,O-O,O-O,c3,Re8,d4,Ng6,a5,Nc7,Qa4,b5,Qb4,Bd7,Qd6,Qd8,Ne5,Ra6', 'Qxd7,Qxd7,Nxd7', 'https://lichess.org/training/EfATq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EFB7H', 'Rapid', 'Debankur2007', 2039, 'rohitagt', 2032, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,a6,Qd2,b5,O-O-O,Bb7,Bh6,O-O,h4,Nh5,Bxg7,Kxg7,g4,Ng3,Rh3,Nxf1,Rxf1,h6,Rg1,e6,f4,Nc6,f5,Nxd4,Qxd4+,e5,Qd2,g5,hxg5,Qxg5,Qxg5+,hxg5,Rgh1,Rh8', 'f6+,Kxf6,Rxh8', 'https://lichess.org/training/EFB7H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFC2o', 'Rapid', 'Oskar_ik', 1793, 'YXA_YXA', 1759, 'e4,c5,b4,cxb4,a3,bxa3,Bc4,e6,Nf3,a6,Nxa3,b5,Nxb5,Bb7,Nc3,Bb4,Bb2,Qc7,d3,d5,exd5,Bxd5,Bxd5', 'Bxc3+,Bxc3,Qxc3+,Ke2,exd5', 'https://lichess.org/training/eFC2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EFC5V', 'Classical', 'ajfirecracker', 1718, 'Mexicanedco', 1610, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Ng8,Nf3,Nc6,d4,d6,Bxf4,Bg4,h3,dxe5,dxe5,Qxd1+,Rxd1,Bxf3,gxf3,Bb4,Bb5,Ne7,Bg5,O-O,Bxc6,Nxc6,Bd2,Nd4,O-O,Bxc3,Bxc3,Ne2+,Kh2,Nxc3,bxc3,Rad8,f4,Rfe8,Rd3,Kf8,Rfd1,Ke7,Kg3,c5,f5,c4', 'f6+,gxf6,exf6+,Kxf6,Rxd8', 'https://lichess.org/training/EFC5V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('efCdM', 'Blitz', 'AndreyGnidenko', 2402, 'IM Odirovski', 2508, 'd4,Nf6,c4,c5,d5,a6,Nc3,e5,e4,d6,f4,exf4,Nf3,Nh5,Be2,Nd7,O-O,g6,Ne1,Ne5,Bxh5,gxh5,Qxh5', 'Bg4,Qxg4,Nxg4', 'https://lichess.org/training/efCdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EFCLJ', 'Classical', 'enessguney', 1811, 'engpiper', 2043, 'e4,c6,Nf3,d5,d3,Bg4,Be2,e6,Ne5,Bxe2,Qxe2,dxe4,dxe4', 'Qa5+,Nc3,Qxe5', 'https://lichess.org/training/EFCLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('efcql', 'Classical', 'mohamedkkc', 1687, 'Boluditen', 1701, 'e4,e5,Bc4,d6,Qh5,g6,Qf3,Nf6,h3,c6,d3,Bg7,Bg5,O-O,Nc3,Be6,Nge2,Bxc4,dxc4,Nbd7,h4,h6,Be3,h5,Bg5,Qb6,O-O-O,Ng4,Rdf1,Nc5,Be3,Nxe3,Qxe3,Kh7,g4,hxg4,h5,Bh6', 'hxg6+,Kg7,Qxh6+', 'https://lichess.org/training/efcql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EfdIe', 'Rapid', 'luizhideki', 1995, 'trautz', 1879, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,O-O,h3,d5,Bd3,c5,c3,Nc6,Nbd2,Nd7,O-O,e5,dxe5,Ndxe5,Nxe5,Nxe5,Bxe5,Bxe5,Nf3,Bg7,Bc2,b6,Qd2,Bb7,Rad1,Qd6,e4,d4,cxd4,cxd4,Bd3,Rfe8,Rfe1,h6,Rc1,Rad8,a3,Re7,Re2,Rde8,Rce1,a6,h4,Bc8,h5,g5,Nh2,Be5,g3,b5,Kg2,Qd7,f4,Qh3+,Kh1,Bg4,fxe5,Bf3+,Kg1,Qxg3+,Kf1,Qh3+,Kg1,Qg3+,Kf1,Qh3+,Rg2', 'Bxg2+,Qxg2,Qxd3+', 'https://lichess.org/training/EfdIe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EFdWZ', 'Rapid', 'Leningard1917', 1668, 'sidhu_06', 1663, 'e4,d5,e5,Nc6,d4,f6,Nf3,Bg4,Be2,Bxf3,Bxf3,fxe5,dxe5,e6,Bf4,Nge7,O-O,Ng6,Bg3,Ncxe5,Bxe5,Nxe5,Bh5+,g6,f4,Nc4,Qe2,gxh5,Qxe6+,Be7,Re1,Qd6,Qf5,Rf8,Qxh5+,Kd7,Qxh7,Rae8,Nc3,Nxb2,Nb5,Qc5+,Kh1,Qxb5,Rab1,Qa5,f5,Nc4,Qg6,Qa6,Qg4,Qf6,Re6,Qf7,Rf1,Nd6,Re5,Bf6,Qa4+,c6,Rxe8,Rxe8,Qxa7,Nxf5,Qxb7+,Ke6,Re1+,Be5', 'Rxe5+,Kxe5,Qxf7', 'https://lichess.org/training/EFdWZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFEZx', 'Blitz', 'BorbityBorb', 2172, 'Loschoux', 2035, 'Nf3,Nf6,c4,g6,g3,Bg7,Bg2,c6,O-O,d5,Na3,O-O,Rb1,Nbd7,b4,e5,d3,a5,b5,Qe7,Bb2,e4,Nd2,Re8,bxc6,bxc6,cxd5,cxd5,dxe4,Nxe4,Bxg7,Kxg7,Nxe4,Qxa3,Qd4+,f6,Nc3,Ba6,Nxd5,Rad8,Bh3,Ne5,f4,Bxe2,fxe5,Rxe5,Rxf6,Rdxd5,Qa7+,Kh6,Rxg6+,hxg6,Qf7,Qe3+,Kh1,Rd1+,Rxd1,Bxd1,Qf8+,Kg5,Qd8+,Kh6', 'Qh8+,Kg5,Qh4#', 'https://lichess.org/training/eFEZx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EFFoP', 'Rapid', 'StarSpiral', 2000, 'Haris1983', 2061, 'd4,Nf6,Nf3,g6,b3,Bg7,Bb2,O-O,Nbd2,d5,c4,c6,Rc1,Na6,a3,Nc7,cxd5,cxd5,Qc2,Na6,e3,Bf5,Bd3,Bxd3,Qxd3,Qb6,O-O,Rac8,b4,Qd6,Rfe1,e6,Ne5,Nb8,h3,Nfd7,Nb3,Nxe5,dxe5,Bxe5,Bxe5,Qxe5,Rc5,b6,Rcc1,Rc7,Nd4,Rfc8,Rxc7,Qxc7,e4,Qc3,Qe3,dxe4,Qxe4,Qxa3,Nb5,Qb3,Qb7,Qc4', 'Nd6,Qc7,Qxc8+,Qxc8,Nxc8', 'https://lichess.org/training/EFFoP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Efg7X', 'Blitz', 'meetpatel181699', 1837, 'tooweaktooslow06', 1852, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,Ng4,Bf4,e5,Bg5,f6,h3,exd4,hxg4,dxc3,Qxc3,O-O,Bc4+,Kh8', 'Rxh7+,Kxh7,Qh3+,Bh6,Qxh6#', 'https://lichess.org/training/Efg7X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('efgUd', 'Rapid', 'Natymelo', 1654, 'salinitas', 1763, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Nge2,Qd7,d4,Nc6,Bf4,Nf6,g4,Nxg4,Bh3,e6,Rg1,f5,Bxg4,fxg4,Rxg4', 'e5,Rg3,exf4', 'https://lichess.org/training/efgUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Efh3u', 'Rapid', 'tiojoao', 1699, 'Snow89', 1663, 'd4,d5,e3,Bf5,Be2,Nc6,Bf3,Nb4,Na3,Nc6,Bd2,h5,Bxh5,e5,dxe5,g6,Bf3,Bxa3,bxa3,Nxe5,Bc3,Nxf3+,Qxf3,f6,O-O-O,Qe7,Bb4,c5,Bc3,Qe6,Kb1,Qd7,Rxd5,Qe7,Ne2', 'Be4,Qg3,Bxd5', 'https://lichess.org/training/Efh3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFHrn', 'Blitz', 'Earth666', 1607, 'remoteus', 1604, 'e4,e5,f3,Nf6,Nc3,Bb4,Bc4,Bxc3,bxc3,Nxe4,fxe4,Qh4+,g3', 'Qxe4+,Qe2,Qxh1,Qxe5+,Kd8', 'https://lichess.org/training/eFHrn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFj1T', 'Rapid', 'arimhlpz', 1815, 'tiwarishiv03', 1796, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Bxc6,bxc6,e5,Nd5,O-O,e6,d3,Be7,c4,Nb4,a3,Qa5,Bd2,Qa6,Bg5,Bxg5,Nxg5,Qa5,Nc3,Na6,Nce4,f6,exf6,d5,fxg7,Rg8,Nf6+,Kd8,Nxg8,Qc7,Nf6,Qxg7,Ngxh7,Nc7,Qg4,Qe7,Qg8+,Ne8,Nxe8,Qxe8,Qxe8+,Kxe8,cxd5,cxd5,Rac1,Ba6,Rxc5,Bxd3,Re1,Ke7,Ng5,Bf5,h3,Rg8,g4,Rxg5,Kh2,Be4,f4,Rg8,f5,exf5,gxf5', 'Rg2+,Kh1,Re2+,Kg1,Rxe1+', 'https://lichess.org/training/eFj1T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EfJKZ', 'Blitz', 'Bassem174', 1560, 'ProfessorGroot', 1569, 'c4,c5,Nc3,e5,g3,Nf6,Bg2,Nc6,Nf3,d5,cxd5,Nxd5,O-O,Nxc3,bxc3,Be7,Qc2,O-O,Rd1,Be6,Bb2,Qb6,d4,cxd4,cxd4,Nb4,Qe4,exd4,Bxd4,Qc6,Qxc6,Nxc6,Rac1,Nxd4,Nxd4,Bxa2,Bxb7,Rab8,Bg2,Rfd8', 'Nc6,Rxd1+,Rxd1,Rb2,Nxe7+', 'https://lichess.org/training/EfJKZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EfKdy', 'Rapid', 'Abang_raizal', 1607, 'Amar_shukla', 1607, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Bf5,Nf3,e6,Bf4,Nf6,Bb5+,Nbd7,h3,a6,Ba4,b5,Bb3,Rc8,O-O,Be7,Ne2,O-O,c3,Be4,Ng3,b4,Rc1,bxc3,bxc3,Qa5,Ne5,Rxc3,Rxc3,Qxc3,f3,Bd3,Nxd3,Qxd4+,Kh1,Nc5,Bc2', 'Nxd3,Qxd3,Qxf4', 'https://lichess.org/training/EfKdy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EFmRo', 'Classical', 'temifi', 1720, 'ECUREUIL57', 1632, 'e4,e5,f4,exf4,Nf3,d6,Bc4,h6,Nc3,Nf6,d4,Bg4,e5,dxe5,h3,Bh5,O-O,exd4,Nb5,Bc5,Re1+,Be7,Bxf4,c6,Nc7+,Kf8,Nxa8,c5,Nc7,b6,Be6,Nc6,Ne5,Nxe5,Bxe5,Bxd1,Raxd1,Bd6,Bxf6,Qxf6,Rf1,Qg6,Bxf7,Qg3,Ne6+,Ke7,Rf3,Qh2+,Kf2,g5,Re1,Kd7,Ng7,Kc6,Be8+,Kb7,c4,d3,Rf7+,Ka6', 'Bb5+,Ka5,Rxa7+,Kb4,Ra4#', 'https://lichess.org/training/EFmRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFnW5', 'Rapid', 'Fred_Matutu16', 1824, 'Davronbekovkamron106', 1911, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,c5,Bg5,Be7,e4,h6,Bh4,Nxe4,Bxe7,Qxe7,Nxe4,dxe4,Nd2,f5,dxc5,Qxc5,Qh5+,Ke7,Be2,Nc6,Qg6,Rg8,O-O,Bd7,Kh1,Ne5,Qg3,Nc6,f3,exf3,Rxf3,Nd4,Re3,Nxe2,Rxe2,Bc6,Rf1,Rad8,Qh4+,Ke8,Qh5+,Ke7', 'Rxf5,Bxg2+,Kxg2', 'https://lichess.org/training/eFnW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('efp1d', 'Blitz', 'Chrysis97', 2135, 'WCM NicolleM_13', 2083, 'd4,Nf6,Nc3,b6,e4,Bb7,e5,Ng8,Nf3,d6,Be2,e6,O-O,Ne7,Bf4,Ng6,Bg3,Be7,exd6,cxd6,Bd3,a6,Qe2,O-O,Be4,d5,Bd3,Nc6,b3,Rc8,Na4,Nb4,c3,Nxd3,Qxd3,b5,Nb2,Bf6,Rac1,Qd7,Nd1,Rc6,Ne3,Rfc8,Ng4,Qd8,Nxf6+,Qxf6,Ne5,Nxe5,Bxe5,Qg6,Qf3,a5,a3,b4,axb4,axb4,c4,dxc4,bxc4,f6,Bg3,Rxc4', 'Rxc4,Bxf3,Rxc8+', 'https://lichess.org/training/efp1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EFPi3', 'Rapid', 'Crazzy_Dario', 1892, 'therock95', 1898, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,Re1,Be7,d4,exd4,Nxd4,Bd7,Bg5,O-O,Nc3,Nxd4,Qxd4,h6,Bh4,a6,Bxd7,Qxd7,e5,Nh7,exd6,Bxd6,Re7', 'Bxh2+,Kxh2,Qxd4', 'https://lichess.org/training/EFPi3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EFPu2', 'Classical', 'Tiaprolano2', 1785, 'Satish_Ballam', 1668, 'd4,e6,Bf4,d5,Nf3,Nc6,c3,h6,Nbd2,Bd6,Bxd6,cxd6,e4,Nf6,exd5,Nxd5,c4,Nf4,g3,Ng6,d5,exd5,cxd5,Nce5,Qe2,O-O,O-O-O,Re8,Qb5,a6,Qb4,a5,Qa3,Bf5,Bb5,Qc7+,Qc3,Rec8,Nd4,Qxc3+,bxc3,Rxc3+,Kb2,Rc5,N2b3,Rxd5,Nxf5,Rxb5,Nxd6,Rb6,Nc4,Nxc4+,Ka1,a4,Nd4,a3,f4,Ra4,Nb3,Ne3,Rd8+,Nf8,Rc1,g6,Rcc8,Kg7,Rxf8,Kf6,Rfe8,Nd5,Re5,Rd6,Rc5,Nb4,Rc1,Ra8,Ra5,Rad8,Rxa3,Rd1,Kb2', 'Nd3+,Kc2,Nxc1', 'https://lichess.org/training/EFPu2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFpx0', 'Rapid', 'maestro_lynx', 1681, 'nickvalas', 1740, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,h6,Bf4,e6,Bc4,Bd6,Bxd6,Qxd6,O-O,Nf6,Re1,O-O,Ne5,Bh7,c3,Qc7,Nh5,Nbd7,Nxf6+,Nxf6,Re3,Nd5,Rg3,Nf6,Qf3,Kh8,Re1,Rad8,Bd3,Bxd3,Qxd3,c5,Qe3,cxd4,cxd4,Qc2,Ng4,Nxg4,Rxg4,Qxb2,Qe5,f6,Qg3,Rf7,Rg6,Rdd7,h3,Qxd4,Rxe6,Qd5,Re8+,Kh7', 'Rxh6+,gxh6,Qg8#', 'https://lichess.org/training/eFpx0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EfQb7', 'Classical', 'descartes_lu', 1626, 'kanna14', 1654, 'd4,d5,Nf3,Nf6,Bf4,a6,e3,Nc6,Nc3,h6,b4,Nxb4,Ne5,Bf5,Rb1,Bxc2,Rxb4,Bxd1,Kxd1,e6,Rxb7,Rb8,Ra7,Bb4', 'Nc6,Bxc3,Nxd8', 'https://lichess.org/training/EfQb7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('efrbE', 'Rapid', 'jurajmagda1', 1767, 'PrototypeJack', 1759, 'd4,Nf6,Nc3,c5,dxc5,e6,Nf3,Bxc5,e4,O-O,Bg5,Be7,Bd3,d5,e5,Ne8,Bxe7,Qxe7,O-O,f6,exf6,Nxf6,Qe2,Nc6,a3,Bd7,Rad1,Rae8,Rfe1,e5,Nxd5,Nxd5,Bc4,Bg4,Bxd5+,Kh8,Qe3,Bxf3,Bxf3,Qh4,Bxc6,bxc6,Qxa7,Re7,Qe3,Ref7,Rf1,Qg4,Rde1,Rf5,h3,Qg6,Qd3,Qf6,Qe3,Qg6,c3,Rg5,g3,Qh5,Kg2,Rf6,f4,Rgf5,Qxe5,Rxe5,Rxe5,Rf5', 'g4,Rxe5,gxh5', 'https://lichess.org/training/efrbE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EFRqW', 'Rapid', 'Grigoriy-66', 1727, 'Jupp3', 1710, 'd4,Nf6,c4,e6,a3,b6,Nc3,Bb7,f3,c5,d5,exd5,cxd5,Bd6,e4,O-O,Bd3,Re8,Nge2,Be5,O-O,Nh5,f4,Bxc3,bxc3,Ba6,c4,d6,Bb2,Bc8,h3,Qh4,Bc3,Bxh3,gxh3,Qxh3,Rf2,Nd7,Rg2,Qe3+,Kh1,Ndf6,Qc2,Qf3,Rg1,Ng4,Ng3', 'Nxg3#', 'https://lichess.org/training/EFRqW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EFRVy', 'Rapid', 'Dysphoria', 2039, 'hikaru21', 2058, 'e4,c6,d4,d5,exd5,cxd5,Bf4,Nc6,Nf3,Nf6,c3,Bf5,Bb5,a6,Ba4,b5,Bc2,Bxc2,Qxc2,e6,Nbd2,Rc8,O-O,Be7,Rfe1,O-O,Ne5,Nxd4,Qd3,Nf5,a4,Qb6,axb5,axb5,g4,Nd6,Qe2,Qb7,Ndf3,Nfe4,Qe3,Ra8,Nd4,Bf6,f3,Nc5,Nxf7,Nxf7,b4,Na4,Qxe6,Nxc3,Nf5,d4,Rxa8,Rxa8', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/EFRVy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('efTUq', 'Blitz', 'acer33', 1734, 'igormomic', 1703, 'e4,e5,Nf3,Nc6,Bc4,g6,d4,Na5,Bd3,exd4,Nxd4,Bg7,Be3,Nf6,Qd2,a6,Qxa5,b6,Qc3,O-O,Nd2,Ng4,Bf4,Qf6,N2f3,Qxf4,h3,c5,hxg4,cxd4,Nxd4,Qxg4,Qd2,Bxd4,c3,Be5,f3,Qg3+,Kd1,f5,exf5,Rxf5,Bxf5,Bf4,Qd5+,Kg7,Qxa8,Qg5,Qxc8,Qxf5,Qc4,d5,Qd4+,Be5,Qxd5,a5,Qb7+,Kf6,Rxh7', 'Qd3+,Kc1,Bf4#', 'https://lichess.org/training/efTUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFu7e', 'Blitz', 'nikruk', 1585, 'LaRata_-_9', 1622, 'd4,Nf6,Nc3,b6,Bg5,Bb7,e3,c5,Bxf6,exf6,Nf3,cxd4,Nxd4,Bc5,Nf5,O-O,Qg4,g6,Nh6+,Kg7,Qh3,Nc6,Bd3,Ne5,Be4,Bxe4,Nxe4,d5,Nxc5,bxc5,O-O,Rb8,b3,Qd6,Ng4,Nxg4,Qxg4,f5,Qh4,f6,Rad1,Qe6,Rfe1,a5,a4,Rfc8,Qg3,c4,bxc4,dxc4,Rd6,Qe4,Red1,Qxc2,Rd7+,Kg8,Qd6,Rb2,Qxf6', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/eFu7e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFuI8', 'Rapid', 'IldarKushaev', 2293, 'mateusz195', 2175, 'e4,c5,b4,cxb4,a3,e5,Nf3,Nc6,axb4,Bxb4,c3,Bc5,Bc4,Nf6,O-O,O-O,d4,Bd6,Bg5,h6,Bh4,g5,Bg3,Nxe4,Nxe5,Nxg3,Nxc6,dxc6,fxg3,Be6,Nd2,b5,Bxe6,fxe6,Qh5,Kg7,Ne4,Qe7,Rfe1,a5,Qg4,Rf5,Re2,Raf8,Rae1,Bc7,h4,Qf7,hxg5,hxg5', 'Nxg5,Rxg5,Qxg5+', 'https://lichess.org/training/eFuI8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('efUkI', 'Rapid', 'Ale1954', 1632, 'scc_felix', 1605, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d4,h6,Nbd2,Bf5,Qb5+,c6,Qxf5', 'Ng3+,Qe5,dxe5', 'https://lichess.org/training/efUkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('efW96', 'Blitz', 'Sgplus', 2352, 'IM EricRosen', 2463, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,Nc6,O-O,d6,d3,Na5,Bg5,Nxc4,dxc4,h6,Bxf6,Qxf6,Nd5,Qd8,b4,Bb6,a4,c6,Nxb6,axb6,h3,Qe7,Qd2,Be6,Qc3,O-O,Rfd1,Rad8,Nd2,f5,f3,Qh4,Qe3,Rf6,c5,bxc5,bxc5,d5,exd5,cxd5,Qxe5,Rg6,Nf1,Qxh3', 'Qxe6+,Rxe6,gxh3', 'https://lichess.org/training/efW96');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFwXp', 'Rapid', 'vidurathegeek', 1773, 'B--5555--L', 1851, 'e4,c6,d4,d5,exd5,cxd5,Nc3,h6,Bf4,Bf5,Nf3,a6,Bd3,Bxd3,Qxd3,e6,O-O,Ne7,Ne2,Ng6,Bg3,Bd6,Bxd6,Qxd6,c3,Nd7,h3,O-O,Rfe1,b5,g3,Nf6,Nc1,Rac8,Ne5,Nxe5', 'dxe5,Qd8,exf6', 'https://lichess.org/training/eFwXp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFX2L', 'Rapid', 'Moaz40', 1642, 'mm1029', 1614, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,Be6,Bb3,Be7,d4,Bxb3,axb3,exd4,Nxd4,c5,Nf5,O-O,O-O,Nc6,Bg5,h6,Bxf6,Bxf6,Qg4,Kh8,Nd5,Ne5,Qg3,Re8,f4,Ng6,Nxf6,Qxf6,Ne3,Rxe4,f5,Nf4', 'Rxf4,Rxf4,Qxf4', 'https://lichess.org/training/eFX2L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EfXbm', 'Rapid', 'the_gm_chekzmate', 1910, 'afgani5', 1912, 'e4,e5,Nf3,Nf6,Nxe5,Bc5,Bc4,Nxe4,Nxf7,Qh4,O-O', 'Bxf2+,Rxf2,Qxf2+', 'https://lichess.org/training/EfXbm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EfyUK', 'Classical', 'liantan', 1706, 'MasrurOfSindria', 1696, 'd4,Nf6,Bf4,d6,Nf3,g6,e3,Bg7,Bd3,O-O,O-O,Nd5,Bg3,c5,c3,Nc6,Nbd2,cxd4,cxd4,Bg4,h3,Bh5,Rc1,Ncb4,Bc4,b5,Bb3,a5,a3,a4,axb4,axb3,Qxb3,Nb6,Rc6,Bxf3,Nxf3,Nc4,Rc1,Qd7,d5,e6,Qd1,Bxb2,Rc2', 'Ra1,Qxa1,Bxa1', 'https://lichess.org/training/EfyUK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EfYYc', 'Blitz', 'FM TorVik-1', 2550, 'weareinluck86', 2419, 'd4,g6,c4,Bg7,Nf3,c5,d5,b5,cxb5,a6,bxa6,Bxa6,g3,d6,Bh3,Nd7,O-O,Ngf6,Re1,O-O,e4,Rb8,Nc3,Qa5,e5,dxe5,Nxe5,Nxe5,Rxe5,Rfd8,Rxe7,Bc4,d6,Qa6,Bf4,Bf8,Qe1,Rxb2,Qe5,Bg7,Re1,h6,Qxc5,Bxa2,Qc7,Rf8,d7,Nxd7,Nxa2,Qxa2,Qxd7,Rxf2,Re8,Rxh2,Rxf8+,Bxf8,Re8', 'Qf2#', 'https://lichess.org/training/EfYYc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EfYZk', 'Rapid', 'SlickRick07', 2062, 'Timur-Tamerlan', 2056, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,Nbd7,g4,Nc5,Bg2,h6,O-O,e5,Nde2,Be7,Ng3,Be6,Nf5,Bxf5,exf5,Qc7,Nd5,Nxd5,Bxd5,Rf8,Re1,O-O-O,b4,Nd7,b5,Bh4,bxa6,bxa6,Rb1,Nc5,Be3,Kd7,Bxc5,Qxc5,Rb7+,Ke8,Re3,Rd7,Rxd7,Kxd7,Qb1,Rc8,Bxf7,Qxc2,Be6+,Ke7,Qf1,Rb8,Bb3,Qc5,Qxa6,Qc1+,Kg2,Rc8,Qb7+,Rc7,Qd5,Qc6,Qxc6,Rxc6,f4,Kf6,fxe5+,dxe5,a4,Rd6,Re2,Rd3,Be6,Ra3,Bd7,Rd3,Bb5,Ra3,Rd2,Kg5,Rd3,Ra2+,Kf3,Bf2,Ke4,Bd4,Kd5,Rc2,Bc4,Rb2,a5,Rb8,a6,Rd8+,Ke4,Rc8,Bd5,Rc1,Bb7,Ra1,Kd5,Ra5+,Ke6,Ra1,Kf7,Ra4,Rb3,e4,Bxe4,Rxa6,Bd5,Rf6+,Ke7,Ra6,Be6,Bf6+,Kd7,Ra7+,Kd6,Ra6+,Kd5,Ra5+,Ke4,Ra4+,Kf3,Be5,Re3,Kf6,h4,Rf4+,Ke2,Rxg4,Rf3,Rxh4,Rf1,Re4+,Kd3,Rf4,Rg1,Rd4+,Ke2,Ra4,Rg6+,Ke7,Rg1,Re4+,Kd2,Rd4+,Kc2,Ra4,Kb3,Ra8,Rd1,Bf6,Rd7+,Ke8,Rf7,Kd8', 'Rf8+,Ke7,Rxa8', 'https://lichess.org/training/EfYZk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFzEJ', 'Rapid', 'stigmata', 1699, 'game_spectator', 2053, 'd4,c6,c4,d5,c5,Nd7,Bd2,e5,dxe5,Bxc5,Bc3,Qb6,e3,Ne7,Qd2,O-O,Ba5,Nxe5,Bxb6,axb6,b4,Bd6,e4,Ra4,exd5,Bxb4,Nc3,Ra3,Nge2,Nxd5,f4,Nc4,Qd3,Nb2,Qb1,Na4,Kf2,Bc5+,Ke1,Naxc3,Nxc3,Nxc3,Qb2,Re8+,Kd2,Ne4+,Kc1,Rc3+,Kb1,Re3,Bc4,Bf5,Bxf7+,Kxf7,g4,Nf2+,gxf5,Nxh1,a4,Re2,Qb3+,Kf8,Ra2,Nf2,Rc2,Ng4,Rxe2,Rxe2,Qd1,Rg2,Qd7,Ne3,Qc8+,Kf7,Qxb7+,Kf6,Qd7,Nxf5', 'Qxc6+,Bd6,Qxg2', 'https://lichess.org/training/eFzEJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eFZXW', 'Rapid', 'Ferrrhatt', 1602, 'Sidarg', 1602, 'e4,e5,Qh5,Nf6,Qxe5+,Be7,Bc4,O-O,Nc3,Nc6,Qg3,Nd4,Bd3,c6,Nge2,Ne6,e5,Nd5,Nxd5,cxd5,Bf5,Qb6,Qh3,g6,Bxe6,dxe6,O-O,Qc7,d4,Qxc2,Re1,Bb4,Qb3', 'Qxb3,axb3,Bxe1', 'https://lichess.org/training/eFZXW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EG4Ti', 'Blitz', 'Nnete', 1570, 'Pejboy', 1636, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,c6,e3,Be7,Bd3,O-O,Nge2,Ne4,Bf4,f5,O-O,Bg5,f3,Bxf4,Nxf4,Nf6,e4,fxe4,fxe4,Ng4,h3,Ne3,Qh5,Nxf1,Rxf1,Nd7,exd5,Nf6,Qd1,cxd5,Qc2,Qb6,Nfxd5,Qxd4+,Kh1,Nxd5', 'Bxh7+,Kh8,Rxf8#', 'https://lichess.org/training/EG4Ti');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eG7Vh', 'Rapid', 'douglas741', 1688, 'leo2105', 1676, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Nc3,Nc6,b3,Bg4,Bb2,Nd4', 'Qxe7+,Bxe7,Nxd4', 'https://lichess.org/training/eG7Vh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eg8rP', 'Blitz', 'jorjik19', 1626, 'DrunkProfessor', 1621, 'd4,Nf6,c4,e5,Nf3,e4,Ng5,h6,Nh3,d5,cxd5,Bxh3,gxh3,Qxd5,Bg2,Nc6,O-O,Qxd4,Nc3,O-O-O,Be3,Qxd1,Rfxd1,Rxd1+,Rxd1,Bb4,Nb5,a6,Nd4,Bc5', 'Nxc6,Bxe3,Ne7+,Kb8,fxe3', 'https://lichess.org/training/Eg8rP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eG8ZL', 'Blitz', 'cem31', 1869, 'asel1951', 1934, 'c4,Nf6,Nc3,g6,a3,Bg7,g3,O-O,Bg2,d6,e3,e5,Nge2,c6,O-O,Nbd7,d4,Re8,dxe5,dxe5,f4,Qb6,Kh1,e4,Nd4,c5,Ndb5,Bf8,Na4,Qd8,Nd6,Re6,Nxc8,Rxc8,Bh3,Rd6,Qc2,b6,b3,Rb8,Bb2,Qe7,Nc3,Bg7,Nd5,Nxd5,cxd5,Rxd5,Bxg7,Kxg7,f5,gxf5,Rxf5,Rxf5,Bxf5,Nf6,Rd1,Qe5,g4,h6,Qg2,Nh7,h3,Re8,Rd7,Ng5,Rxa7,Nf3,Qa2,Qg3,Qb2+,Kg8', 'Bh7+,Kxh7,Rxf7+,Kg6,Qg7#', 'https://lichess.org/training/eG8ZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eg9B7', 'Rapid', 'HannibalsTea', 1831, 'AKMHaque', 1831, 'd4,e6,e4,d6,f4,Ne7,Nf3,d5,e5,a6,c4,Nbc6,cxd5,Nxd5,g3,Bb4+,Bd2,Ne3,Qb3,Bxd2+,Nbxd2,Nf5,Qc3,O-O,Bd3,Nfxd4,Nxd4,Nxd4,O-O,Nc6,Nf3,Qe7,Rfd1,h6,Be4,Na7,Rac1,c6,Kg2,Nb5,Qb3,Rd8,Rxd8+,Qxd8,Rd1,Qc7,a4,Na7,Nd2,b5,Rc1,Bb7,Nf3,Rd8,Rd1,Rxd1,Qxd1,c5,Bxb7,Qxb7,Qd8+,Kh7,Qd3+,g6,a5,Nc6,Qe4,Qc7,h4,h5,Ng5+,Kg7,g4,hxg4,h5,Nd4,hxg6,fxg6', 'Qxd4,cxd4,Nxe6+,Kf7,Nxc7', 'https://lichess.org/training/Eg9B7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('egBGG', 'Rapid', 'wolo92', 1694, 'otafc123', 1739, 'd4,d5,Bf4,Bf5,Nf3,e6,e3,Bg6,c4,Bb4+,Nc3,Ba5,Qa4+,Nc6,Ne5,Ne7,cxd5,exd5,Bb5,Bb6,Bxc6+,bxc6,Nxg6,hxg6,Bg5,f6,Bf4,Qd7,O-O-O,O-O,Rhe1,Qg4,Bg3,Nf5,Qxc6,Nxg3,hxg3,Rfe8,Nxd5,Rad8,Nxb6,cxb6,Qc4+,Kf8,Rh1', 'Rc8,Rh8+,Ke7,Rxe8+,Kxe8,Qxc8+,Qxc8+', 'https://lichess.org/training/egBGG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('egbzz', 'Rapid', 'ulises0298', 1758, 'donat_dk', 1837, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bb4,d3,d6,h3,h6,O-O,Be6,Bb5,a6,Bxc6+,bxc6,Ne2,Bc5,c3,a5,Qa4,Bd7,Qd1,Qc8,Be3,Bb6,d4,O-O,Qd3,exd4,Bxd4,Nh7,Bxb6,cxb6,Qxd6,Rd8,Qg3,Re8,e5,c5,a4,b5,b3,c4,Rfb1,Qc5,axb5,Bxb5,Ned4,cxb3,Rxb3,Bc4,Rba3,Nf8,Nf5,Ng6,Nd6,Re6,Nxc4,Qxc4,Rxa5,Rxa5,Rxa5,Qxc3,Ra8+,Kh7,Kh2,Nxe5', 'Ng5+,hxg5,Qxc3', 'https://lichess.org/training/egbzz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EGcWl', 'Rapid', 'helioluciod', 1965, 'epsilon0', 1835, 'e4,e5,Nf3,Nc6,Bc4,Be7,Nc3,Nf6,d3,O-O,Bg5,h6,Bh4,Nh7,Bg3,d6,h4,Bg4,Nd5,Nd4,c3,Nxf3+,gxf3,Bh5,Rg1,c6,Nxe7+,Qxe7,Qd2,Bxf3,Qe3,Bh5,f4,Nf6,fxe5,dxe5,d4,Ng4,Qf3,Nf6,Qf5,exd4,e5,Bg6,Qxg6,Kh8,Qd3,b5,Bb3,dxc3,Qxc3,Rad8,Ke2,Ne4,Qe3,Rd2+,Kf3,Rfd8,Kxe4,Qb4+,Kf3,R2d3,Rgd1,Rxe3+,Kxe3,Qc5+,Kf3,Rxd1,Rxd1,a5,Bxf7,Qc2,Re1', 'Qf5+,Kg2,Qxf7', 'https://lichess.org/training/EGcWl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EGCyB', 'Rapid', 'TSMRileyReid', 1842, 'gt_2', 1792, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Qf6,Bxd5+,Be6,Bxc6,bxc6,Qxc6,Re8,Qxc7+,Be7,Nc3,Rc8,Qxa7,Kg6,d3', 'Bc5,Ne4,Bxa7', 'https://lichess.org/training/EGCyB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EgCZh', 'Classical', 'bird67', 1825, 'Blessox', 1819, 'd4,d5,Nf3,Nc6,c4,e6,Nc3,Nf6,Bg5,h6,Bxf6,Qxf6,e4,dxe4,Nxe4,Bb4+,Nc3,O-O,Be2,Rd8,d5,exd5,cxd5,Ne5,Rc1,Nxf3+,Bxf3,Qe5+,Kf1,Bf5,Qe2,Qd6,g3,Re8,Qb5,Qe5', 'Qxb4,Bh3+,Bg2', 'https://lichess.org/training/EgCZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EGdHf', 'Classical', 'L9_chess', 2226, 'Suchtl', 2199, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,Be7,Ne2,O-O,O-O,c5,Be3,Qb6,Qc1,Nc6,c3,Bd7,Rd1,Rac8,dxc5,Bxc5,Bxc5,Qxc5,Nd2,Ne5,Qc2,Nxf3+,Nxf3,Bc6,Nfd4,Be4,Qb3,Qg5,f3,Qe3+,Kh1,e5,c4,exd4,Qxe3,dxe3,fxe4,Rxc4,Rac1,Rxc1,Rxc1,Nxe4,g3,Rd8,Kg2,Kf8,Kf3,Re8,Rc7,Nd6,Rd7,Re6,Nf4,Rf6,Kxe3,Ke8,Rc7,Kd8,Rc5,b6,Rd5,Kc7,b3,h6,Re5,g5', 'Nd5+,Kc6,Nxf6', 'https://lichess.org/training/EGdHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EgdX7', 'Classical', 'Dubos', 1738, 'isavahdat', 1738, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,Na5,Bb3,Nxb3,axb3,d5,exd5,Nxd5,Nf3,Bg4,h3,Nxc3,bxc3,Bxf3,Qxf3,c6,O-O,Bd6,Bb2,O-O,Qe3,Re8,Rxa7,Rxa7,Qxa7,Qc7,Qe3,c5,d4,cxd4,cxd4,Qxc2,Ba1,Qf5,Re1,f6,f3,Qc8,Qd3,exd4,Rxe8+,Qxe8,Qc4+,Kf8,Bxd4', 'Qe1+,Qf1,Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/EgdX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EGE2O', 'Rapid', 'JAHM2005', 1629, 'Stass_Baranov', 1807, 'c4,c6,Nc3,d5,e3,Nf6,Qb3,e6,Nf3,Be7,Be2,O-O,d4,Nbd7,Qc2,dxc4,Bxc4,Nb6,Bd3,Nbd5,Ng5,Nb4,Bxh7+,Kh8,Qb1,g6,Bxg6,fxg6,Qxg6,Qe8,Qh6+,Kg8,Nce4,Nc2+,Kd1,Nxa1', 'Nxf6+,Rxf6,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/EGE2O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EgENO', 'Rapid', 'dsye', 2303, 'brzigonzalez', 2358, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bd6,O-O,O-O,Nbd2,Nxd2,Bxd2,Bg4,h3,Bh5,g4,Bg6,Bg5,Qd7,Re1,Bxd3,Qxd3,f5,Ne5,Bxe5,Rxe5,fxg4,Re7,Qc8,Rae1,Nc6,R7e6,gxh3,Qb3,Nxd4,Qxd5,Nxe6,Rxe6,c6', 'Rxc6+,Kh8,Rxc8', 'https://lichess.org/training/EgENO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eggi1', 'Bullet', 'Aldrin_Caraig', 2246, 'FM Mals', 2334, 'Nf3,c6,c4,d5,d4,Nf6,Nc3,Bf5,Bf4,e6,e3,Bd6,Bxd6,Qxd6,c5,Qc7,Ne5,Nbd7,f4,O-O,Bd3,Bxd3,Qxd3,b6,b4,a5,cxb6,Qxb6,bxa5,Rxa5,O-O,c5,Rab1,Qc7,Rb2,cxd4,exd4,Rc8,Nb5,Qd8,Rfb1,Ne4,Rc2,Rca8,Nc6,Qf8,Nxa5,Rxa5,Nc3,Ndf6,Nxe4,Nxe4,Rbc1,Ra8,g4,g6,f5,Qh6,Rg2,Ra4,Rc8+,Kg7,g5,Nxg5,Qe3', 'Nh3+,Qxh3,Qxh3', 'https://lichess.org/training/Eggi1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EGGmE', 'Rapid', 'Issamacto', 1769, 'natiqbayramov1', 1717, 'e4,c5,f4,Nc6,Nf3,Nf6,Nc3,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,e6,Be3,Be7,Bb5,O-O,Bxc6,bxc6,Ke2,Ba6+,Kf2', 'Ng4+,Kg3,Nxe3', 'https://lichess.org/training/EGGmE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EgGpl', 'Blitz', 'petrokir', 1759, 'Thunderbell', 1762, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kxf2,Nxe4+,Kg1,Qh4,Qf3,Nf6,Nxh8,Nd4,Qg3,Qe4,Qxg7', 'Qe1+,Bf1,Ne2#', 'https://lichess.org/training/EgGpl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EGGQS', 'Rapid', 'deiaa', 1887, 'alonshocron', 1987, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bg5,Bb4,Bc4,O-O,O-O,Qa5,Bxf6,Bxc3,Nxc6,bxc6,Bxc3,Qc7,Qg4,f6,Rad1,d5,exd5,cxd5,Bd3,e5,Qh5,e4,Be2,Be6,Bg4,f5,Be2,Rab8,Qg5,Rb6,f3,Rfb8,fxe4,dxe4,Ba5,Qc5+,Kh1,Qxa5,Rd8+,Kf7,Bh5+,g6,Rxb8,Rxb8,Qh6,gxh5,Qxh7+,Kf6,Qh6+,Ke5', 'Qf4+,Kf6,Qxb8', 'https://lichess.org/training/EGGQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EgHbP', 'Blitz', 'IM lovlas', 2545, 'FM nissousspou', 2340, 'd4,d6,e4,Nf6,Nc3,g6,Nf3,a6,a4,Bg7,Bc4,O-O,O-O,c6,Re1,d5,exd5,Nxd5,Ne4,Nd7,a5,N7f6,Nc5,Bg4,h3,Bxf3,Qxf3,Qc7,c3,Rad8,Bg5,h6,Bh4,Kh7,Bg3,Qc8,Re2,e6,b4,Ne7,Rae1,Nf5,Be5,Nd5,Bxg7,Nxg7,Bxd5,cxd5,Qf6,Qc7,g4,Ne8,Qf3,Nd6,Kg2,Rde8,Qf4,Re7,Nxe6,fxe6,Qxf8,Rf7,Qa8,Ne4,Qe8', 'Rxf2+,Rxf2,Qg3+,Kf1,Qxf2#', 'https://lichess.org/training/EgHbP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EgHex', 'Bullet', 'Stupidmofo', 1705, 'yfevrier1', 1794, 'e4,e5,d4,Nc6,c3,exd4,cxd4,d5,e5,Bf5,Nc3,Bb4,Nf3,f6,a3,Bxc3+,bxc3,fxe5,Nxe5,Nxe5,dxe5,Ne7,Bg5,O-O,Bd3,Bxd3,Qxd3,Qd7,O-O,Qf5,Qd2,Ng6,Qxd5+,Kh8,Be3,Qxe5,Qxb7,Qxc3,Rfc1,Qe5,Qxc7,Qf6,Rab1,Nh4,Qg3,Nf5,Qf3,Qg6,Qe4,h5,Rc6,Qf7,Rbc1,Nxe3,Qxe3,Rae8,Qg3,Qe7,Rf1,Qd7,Rc7,Qd4,Qg6', 'Qxf2+,Rxf2,Re1+,Rf1,Rfxf1#', 'https://lichess.org/training/EgHex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EGHi8', 'Rapid', 'Dionisii1', 2047, 'Juanfe360', 2043, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Bd3,Nbd7,b3,c5,Bc2,cxd4,exd4,Bb4,Qd3,a6,Ne2,dxc4,bxc4,b5,cxb5,axb5,g4,Bb7,Rg1,Be4,Qxe4,Nxe4,Bxd8,Nxc3,Bg5,Ne4+,Kd1,Nxg5,h4,Nh3,Rg3,Nxf2+,Kc1,Rac8,Kb2,Nf6,g5,N6e4,Rf3,Rc7,Rf4,Bc3+,Nxc3,Nxc3,Rxf2,Rfc8,Bb3,Ne4,Rf4,Nd6,h5,Nc4+,Kc3,Ne3+,Kd2,Rc3,g6,Nd5,Rxf7,hxg6,hxg6,Rg3,Rb7,Rg2+,Kd3', 'Rc3+,Ke4,Re2#', 'https://lichess.org/training/EGHi8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eGhKa', 'Rapid', 'Klements', 1818, 'kalfy81', 1690, 'e4,e5,d3,Nf6,Nd2,Bc5,Ngf3,d6,g3,Nc6,Bg2,O-O,O-O,Nd4,c3,Nxf3+,Nxf3,Bg4,Bg5,h6,Bd2,Qd7,h3,Bxh3,Nh4,Bxg2,Kxg2,g6,f4,Nh5,fxe5,dxe5,Bxh6,Rfe8,Nf5,Bf8,Rh1,Re6,Rxh5,gxf5,Bxf8,Rxf8,Rh8+', 'Kxh8,Qh5+,Kg7', 'https://lichess.org/training/eGhKa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EGHSA', 'Classical', 'artix_m_tour', 1668, 'DE14822', 1940, 'e4,g6,Nf3,Bg7,e5,Nc6,d4,d6,c3,dxe5,Bb5,exd4,Bxc6+,bxc6,cxd4,Bg4,O-O,Bxd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/EGHSA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EGj0R', 'Blitz', 'Kolek1905', 1546, 'Sergey1972', 1509, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bb4,Bxc6,bxc6,a3,Bxc3,dxc3,Nxe4,Qe2,d5,Nxe5,O-O,O-O,Bb7,f3,Nf6,Bg5,Re8,f4,h6,Bh4,a5,Qf3,Qd6,Bg3,Ne4,f5,Nd2,Qh5,Nxf1,Qxf7+,Kh8,Ng6+,Qxg6,fxg6,Nd2,Be5,Rxe5,Rd1,Ne4,Qxc7,Rf8,Qxb7,Nf2,Rf1', 'Nh3+,gxh3,Rg5+,Kh1,Rxf1#', 'https://lichess.org/training/EGj0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('egJYW', 'Classical', 'divyaprasanna', 1683, 'kwe33', 1683, 'e4,e5,Nf3,Nc6,Nc3,Bb4,Bc4,Nf6,O-O,Bxc3,bxc3,Nxe4,Qe1,Nf6,d3,d6,Ng5,h6', 'Nxf7,Qe7,Nxh8', 'https://lichess.org/training/egJYW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('egkaa', 'Blitz', 'Salomonxxi', 2063, 'JohanD', 2163, 'd4,d5,c4,Nf6,Nc3,e6,Bf4,Be7,e3,O-O,Bd3,Nbd7,cxd5,Nxd5,Bg3,c6,Nf3,N7f6,a3,Nxc3,bxc3,c5,O-O,Qa5,Qb3,Bd7,c4,cxd4,Nxd4,b6,Nb5,a6,Nd4,Ba4,Qb2,Nh5,Nb3,Bxb3,Qxb3,Nxg3,hxg3,Bc5,Qc2,Bd6,Bxh7+,Kh8,Be4,Rab8,Kh2,Be5,Ra2,g6,Rh1,Kg7,Kg1,Rh8,Rxh8', 'Qe1+,Kh2,Rxh8#', 'https://lichess.org/training/egkaa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eGM40', 'Blitz', 'Santosh_kudalkar', 1658, 'colmen-black-chess', 1695, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,g6,O-O,Bg7,c3,e6,f5,exf5,exf5,Bxf5,d3,Nf6,Ng5,O-O,Na3,Ne5,Bb3,Nxd3,Rxf5,gxf5,Qxd3,Ne4,Nxe4,fxe4,Qxe4,Qf6,Be3,Rae8,Qd3,Qe5,Bf2,Qe2,Qg3,Qxb2,Rf1,Qxc3,Qxd6,Rd8,Bxf7+', 'Kh8,Qxc5,Rxf7,Qxc3,Bxc3', 'https://lichess.org/training/eGM40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EGmo0', 'Rapid', 'fananapazir-1368', 1801, 'masoud97', 1812, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Bc4,gxf3,Qxf3,Nf6,O-O,d6,d4,Bg4,Qxf4,h5,Qxf6,Qxf6,Rxf6,Rh7,Nc3,Be7,Nd5,c6,Nc7+,Kd7,Nxa8,Bxf6,e5,Bxh4,exd6,Kxd6,Bf4+,Kd7,Bxb8,b5,Bxa7,bxc4,Nb6+,Kd6,Nxc4+,Kc7,Bc5,Be6,Ne5,Bd5,Nf3,Bd8,Kf2,h4,a4,h3,gxh3,Rxh3,Ne5,f6,Nd3,Rh2+,Ke3,f5,a5', 'Bg5+,Nf4,Rh3+', 'https://lichess.org/training/EGmo0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EgMUn', 'Rapid', 'LorkinoZelenilo', 2013, 'MasterMind999', 2073, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,d4,d6,Re1,O-O,h3,h6,a4,Bb7,Nc3,b4,dxe5,Nxe5,Nd5,a5,Bf4,Ng6,Bg3,Re8,Qd4,Nxd5,exd5,Bf6,Rxe8+,Qxe8,Qg4,Bc8,Qc4,Bxb2,Re1,Qd7,Nd4,Ba6,Qc6,Qxc6,Nxc6,Kf8,Nxa5,Re8,f3,Bd4+,Kh2,Rxe1,Bxe1,Bc3,Bf2,Nf4,Ba7,Ke7,Kg3,Ne2+,Kf2,Nd4,Ke3,Nf5+,Kf4,Nh4,g4,Ng2+,Kg3,Ne1,Bb8,Kd7,Nc6,g5,Ba7,Be2,f4,gxf4+,Kxf4,Bd2+,Be3,Ng2+,Ke4,Nxe3,a5,Nd1,Ba4,Ba6,Nb8+,Kc8,Nxa6,Nb2,Bc6,Nc4', 'Kd3,Nxa5,Kxd2', 'https://lichess.org/training/EgMUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EgNgq', 'Classical', 'joeblow007', 1642, 'Rahulnsk', 1624, 'e4,e5,f4,d6,fxe5,dxe5,Nf3,Nc6,Bb5,Bd7,d3,f6,a4,a6,Bc4,Na5,Ba2,b5,b4,Nb7,c3,bxa4,O-O,c5,bxc5,Bxc5+,Kh1,Bb5,c4,Bc6,Nc3,Qd7,Bb1,Bd4,Nxd4,exd4,Ne2,Nc5,Ba3,Nb3,Ra2,Rb8,Rb2,Ne7,Bc2,O-O,Bxb3,axb3,Rxb3,Rxb3,Qxb3,Ra8,Qb6,Kf8,Bxe7+,Kxe7,Nxd4,Rc8,Nf5+,Kf8,Qxa6,Ra8,Qb6,Qxd3,Qc5+,Kf7,Re1,Qd7,h3,Rd8,e5,Qc7,e6+,Kg6,Nh4+,Kh6,Nf5+,Kg6,e7,Re8,Nd6', 'Bxg2+,Kxg2,Qxc5,Nxe8,Qc6+,Kf1,Qxe8', 'https://lichess.org/training/EgNgq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eGOF3', 'Rapid', 'pifano', 1677, 'kimi963', 1652, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nd7,Bc4,Ne5,Bb3,Nf6,O-O,Bg4,Qe1,Be7,Nc3,c6,f4,Ng6,e5,dxe5,fxe5', 'Qxd4+,Be3,Qxe5', 'https://lichess.org/training/eGOF3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eGpSJ', 'Blitz', 'IM Machinegunusa', 2579, 'Matija_Zadravec', 2374, 'e4,e5,Nf3,Nc6,Bb5,Nge7,Nc3,g6,d4,exd4,Nxd4,Bg7,Bg5,O-O,Nf3,h6,Be3,d6,Qd2,Kh7,h3,a6,Ba4,b5,Bb3,Na5,O-O,Nxb3,axb3,Bb7,Qd3,f5,Nd2,f4,Bd4,Bxd4,Qxd4,Nc6,Qd5,f3,Nxf3,Rxf3,gxf3,Ne5,Qxb7,Qg5+,Kh1,Rf8,Qxc7+,Rf7,Qxd6,Qh5,Qe6,Qxf3+,Kg1,Qf4,Kg2,Nf3,Qxf7+,Qxf7,Rxa6', 'Nh4+,Kg1,Qf3', 'https://lichess.org/training/eGpSJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('egQdy', 'Rapid', 'langla', 1807, 'Benbucks', 1912, 'e4,c5,Bc4,e6,Nf3,Nf6,Nc3,Nc6,d3,a6,Bg5,Be7,h3,b5,Bb3,h6,Bh4,Bb7,a3,O-O,e5,Nd5,Bxe7,Ndxe7,Ne4,Nd4,Nxc5,Bxf3,gxf3,Nxb3,Nxb3,d5,Qd2,Rc8,Rg1,Nf5,d4,Rc4,O-O-O,Qh4,Nc5,a5,c3,b4,axb4,axb4,Nd7,Rb8,Nxb8,bxc3,bxc3,Nxd4,Kb2,Nb5,Rc1,Qd8,Qxh6,g6,Na6,Qb6,Nb4,Qxf2+,Kb3,Qxf3,Qd2,d4,Nd3,Nxc3,Kxc4,Qd5+,Kb4,Qb5+,Ka3,Qa5+,Kb3', 'Qa4+,Kb2,Qa2#', 'https://lichess.org/training/egQdy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eGr2o', 'Rapid', 'RAJvYaS', 2326, 'mafiabossgigant', 2540, 'e4,c5,Bc4,Nc6,Nf3,g6,d3,Bg7,Nc3,e6,Be3,Nd4,Bxd4,cxd4,Nb5,d5,exd5,exd5,Qe2+,Ne7,Bxd5,Qa5+,Kf1,Qxb5,Re1,Bf6,Bc4,Qf5,Nxd4,Qc5,Nb3,Qg5,h4,Qg4,f3,Qg3,h5,Bh4,Rd1,O-O,hxg6,Nxg6,Qe4,Nf4,Rd2,Be6,Bxe6,fxe6,Nd4,Ng6,Rh3,Qg5,Rd1,Nf4,Rh2,Rf6,Ne2,Nxe2,Kxe2,Rf4,Qxb7,Raf8,Rdh1,R8f7,Qc8+,Kg7,Qc3+,e5,Qc5,h6,g4,Rxg4', 'fxg4,Qxg4+,Kd2,Bg5+,Kc3', 'https://lichess.org/training/eGr2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('egR6c', 'Rapid', 'vasalo', 1629, 'Gurmeetsinghhans', 1689, 'e4,e5,Nf3,Nf6,Nc3,Bc5,d3,d6,Bg5,Nc6,Be2,O-O,Nd5,Bg4,Nxf6+,gxf6,Bh6,Re8,h3,Bh5,Nh4,Bg6,Bh5,Nd4,c3,Ne6,Qg4,Ng7,Bxg6,fxg6,f4,exf4,Bxf4,g5,Rf1,d5,Bxg5,fxg5,Nf5,dxe4', 'Nh6+,Kh8,Nf7+', 'https://lichess.org/training/egR6c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eGsUZ', 'Classical', 'Uitwaaienn', 1673, 'grzesbartosz', 1945, 'g3,e5,Bg2,Bc5,e4,Nf6,d3,h6,Nf3,d6,O-O,Bg4,h3,Bxf3,Qxf3,Nc6,Be3,Nd4,Bxd4,Bxd4,c3,Bb6,Nd2,Qd7,Nc4,O-O-O,Nxb6+,axb6,d4,Qb5,b3,c5,c4,Qd7,d5,h5,h4,Ng4,Bh3,Rdf8,Qe2,Rhg8,f3,g5,fxg4,gxh4,Kh2,hxg3+,Kxg3,f5,Kh2,fxg4,Rxf8+,Rxf8,Rf1,Rxf1,Bxf1,Qg7,Kg3,Qg5,Qh2,Kd7,Qh4,Qe3+,Kh2,Qf4+,Kg1,g3,Qxh5', 'Qf2+,Kh1,Qxf1#', 'https://lichess.org/training/eGsUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('egTWs', 'Classical', 'adrher', 2017, 'drreal33', 1995, 'd4,Nf6,Nf3,e6,Bf4,Be7,h3,d6,e3,Nbd7,c4,b6,Bd3,Bb7,Nbd2,O-O,Bh2,Re8,O-O,Nf8,Qc2,c5,dxc5,bxc5,b4,cxb4,Rfb1,a5,a3,d5,axb4,Bxb4,c5,Rc8,Bd6,Ng6,Nb3,e5,Bb5,Bc6,Bxc6,Rxc6,Qf5,Bc3,Nxa5,Ra6,Rb8,Rxa5,Rxd8', 'Rxa1+,Kh2,Rxd8', 'https://lichess.org/training/egTWs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('egVca', 'Rapid', 'totalchiller', 1788, 'scuberthouse', 1788, 'd4,d5,c4,dxc4,e3,b5,b3,Ba6,bxc4,c6,cxb5,cxb5,Nc3,Qa5,Bd2,b4,Ne4,Bxf1,Kxf1,e6,Qf3,Qd5,Ne2,f5,Ng5,Qxf3,Nxf3,Nd7,g3,Ngf6,Kg2,Ne4,Be1,Bd6,Rb1,Rb8,d5,exd5,Ned4,O-O,Nc6,Rbc8,Nxb4,a5,Nxd5,Rc2,Nd4,Rxa2,Rf1,g5,Bxa5,Rxa5,Rb7,Ndc5,Ne7+,Bxe7,Rxe7,Rf7,Re8+,Rf8,Re7,Nd3,Ne6,Rf7', 'Re8+,Rf8,Rxf8#', 'https://lichess.org/training/egVca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('egvxj', 'Rapid', 'panthibivek14', 1642, 'venohairy', 1614, 'e4,e5,Nf3,Nf6,c3,Nc6,d4,exd4,cxd4,Nxe4,Qe2,Qe7,Ng5,d5,Nxe4,Qxe4,Qxe4+,dxe4,Be3,Bb4+,Nc3,Bxc3+,bxc3,Be6,Bb5,O-O,O-O,f5,Rfd1,Ne7,Bg5,Ng6,g3,f4,d5,Bh3,Bc4,Kh8,Re1,e3,fxe3,fxe3,Rxe3,Rf5,Bh4,Nxh4,gxh4,Rf4,Rae1,Rg4+,Kh1', 'Bg2+,Kg1,Bxd5+', 'https://lichess.org/training/egvxj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eGWvG', 'Blitz', 'HinabiSensei', 1972, 'NM mkoganov', 2208, 'd4,c5,d5,Nf6,Nc3,g6,e4,d6,h3,Bg7,Nf3,Nbd7,Be2,O-O,O-O,Ne5,Nxe5,dxe5,f4,exf4,Bxf4,a6,a4,e6,d6,Nd7,a5,b6,axb6,Qxb6,Na4,Qc6,Bf3,e5,Be3,Rb8,Ra3,Rb4,Qd5,Qxd5,exd5,f5,Nxc5,Nxc5,Bxc5,Rxb2,d7,Bxd7,Bxf8,Bxf8,Rxa6,Bb5,Rb6', 'Bc5+,Kh1,Bxb6', 'https://lichess.org/training/eGWvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Egxn6', 'Rapid', 'MaximTet', 1918, 'GjokoAndonov', 1900, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Qc7,O-O,Nc6,Nxc6,bxc6,f4,d6,Be3,Nf6,h3,Be7,Nc3,Bd7,a3,c5,f5,c4,fxe6,Bxe6,Be2,Rb8,Rb1,O-O,Bg5', 'Qc5+,Kh1,Qxg5', 'https://lichess.org/training/Egxn6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EGyIU', 'Rapid', 'super_sergio777', 1787, 'donex1', 1612, 'b3,Nf6,e3,Ng8,Bb2,Nf6,d4,Ng8,Bd3,Nf6,Nd2,Ng8,f4,Nf6,Ngf3,g6,e4,Bh6,e5,Nd5,O-O,Nxf4,Bc4,e6,Ne4,Bg7,Nfd2,Nd5,Bxd5,exd5,Nf6+,Bxf6,Rxf6,O-O,Nf3,d6,Qe1,Bg4,Qg3,Bxf3,Qxf3,dxe5,dxe5,Nd7,Rf4,Qg5,Rf1,Nxe5,Bxe5,Qxe5,Rxf7,Qe8', 'Rxf8+,Qxf8,Qxd5+', 'https://lichess.org/training/EGyIU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EgzlZ', 'Rapid', 'Anil14', 1782, 'iyer-rohit', 1769, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,d5,d4,exd4,cxd4,dxe4,Ne5,Bd6,Nxc6,bxc6,Bxc6+,Bd7,Bxa8,Qxa8,O-O,Nf6,Nc3,Ng4,g3,h5,f3,exf3,Rxf3,Bc6,Qe2+,Kf8,Rf1,g6,Bf4,Kg7,Bxd6,cxd6,h3,Re8,Qc4,Nh6,d5,Bd7,Qd4+,Kh7,Rf2,Bxh3,Ne4,Nf5,Rxf5,Rxe4,Qxe4,Bxf5,Qd4,a5,Re1,Qb7,Re3,Qc7,Rc3,Qe7,Re3,Qg5,Qf4,Qf6,b3,Qa1+,Qf1,Qxa2,Qf2,Qa3,Re7,Qc1+,Qf1,Qg5,Rxf7+,Kh6,Ra7,Qxg3+,Qg2,Qxb3,Rxa5,Qe3+,Qf2,Qg5+,Qg2,Qc1+,Qf1,Qe3+,Qf2,Qe5,Qh2,Be4', 'Qxe5,dxe5,d6', 'https://lichess.org/training/EgzlZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EgZn6', 'Blitz', 'Norocmibebe', 1894, 'Malong14', 1824, 'e4,e5,Nf3,d5,Nxe5,Bd6,d4,dxe4,c4,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/EgZn6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EgZtb', 'Blitz', 'CM kakovski', 2239, 'tarasov_dv', 2151, 'c4,e6,g3,c5,Bg2,Nf6,Nf3,Be7,O-O,O-O,b3,a6,Bb2,Nc6,Nc3,b6,d4,cxd4,Nxd4,Bb7,Qd2,Qc7,Rad1,h6,Ne4,Nxe4,Bxe4,f5,Bg2,Rad8,Nxc6,Bxc6,Bxc6,Qxc6,Qf4,Bf6,Bxf6,Rxf6,Rd6,Qc5,Rfd1,e5,Qe3', 'Rxd6,Rxd6,Qxd6', 'https://lichess.org/training/EgZtb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('egzWg', 'Rapid', 'asu76', 2043, 'MrShooko', 2055, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,Bg4,h3,Bh5,O-O,Nd4,g4,Bg6,Nxd4,exd4,Re1,O-O-O,Bf4,f5,Ng3,Bd6,Bxd6,Rxd6,gxf5,Be8,Ne4,Rh6,Qg4,Bd7,Qxg7', 'Rg8,Qxg8+,Qxg8+', 'https://lichess.org/training/egzWg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EH02u', 'Rapid', 'Chessian', 1841, 'hamoninja', 1948, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,Bg7,Be3,O-O,Qd2,Ng4,Bf4,Nc6,d5,Nce5,Nxe5,Bxe5,Bxe5,Nxe5,O-O-O,f5,f4,Nf7,Bd3,Nh6,h3,fxe4,Bxe4,Nf5,g4,Ng3,Rhg1,Nxe4,Nxe4,e5,Rgf1,Qh4,Qe3,Bd7,b3,Rf7,Ng5', 'exf4,Rxf4,Qxg5', 'https://lichess.org/training/EH02u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eh1rU', 'Rapid', 'RustyShackleford', 1726, 'trumjeter', 1645, 'd4,Nf6,Nf3,e6,Bf4,d5,h3,c5,e3,Nc6,c3,c4,Nbd2,h6,Qc2,b5,e4,Nh5,Bh2,b4,Be2,a5,O-O,Nf6,e5,Nd7,Ne1,Bb7,f4,Be7,f5,exf5,Qxf5,f6,Bh5+,Kf8,e6,Nb6,Nef3,bxc3,bxc3,Na4,Nh4,Nxc3,Ng6+,Kg8,Nxe7+,Nxe7,Bf7+,Kf8,Qc2,Ne2+,Kh1,Nxd4,Qb2,Ndc6,Qxb7,Rb8,Qd7', 'Qxd7,exd7,Kxf7', 'https://lichess.org/training/Eh1rU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eH3NY', 'Bullet', 'amol2018', 1712, 'Zefirotorna', 1738, 'd4,c6,Nf3,Nf6,h3,d6,Bf4,Nbd7,e3,Qc7,c4,e5,dxe5,dxe5,Bh2,Bb4+,Nbd2,O-O,a3,Bd6,Be2,e4,Bxd6,Qxd6,Nd4,Qe7,O-O,Ne5,Qc2,Ng6,b4,Re8,Rad1,Qc7,N4b3,Bd7,Nc5,Bf5,g4,b6,gxf5,bxc5,fxg6,hxg6,bxc5,Qe5,Nb3,Kf8,Rd6,Ke7,Rfd1,Rh8,Bg4,Qg5,Kf1,Nxg4,hxg4,Rh1+,Kg2', 'Qxg4+,Kxh1,Rh8#', 'https://lichess.org/training/eH3NY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EH4DF', 'Classical', 'tobiasforbes', 1836, 'abadovich', 2020, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,c5,O-O,Nc6,c3,cxd4,cxd4,Bd6,Qc2,O-O,Re1,Bg4,Ne5,Nxd4,Qd2,Bxe5,Rxe5,Qd6,Bxh7+,Nxh7,Qxd4,Nf6,Nc3,Rac8,Nxd5,Rfd8,Nxf6+', 'Qxf6,Qxg4,Qxe5', 'https://lichess.org/training/EH4DF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eH6gM', 'Classical', 'BASSIM100', 1627, 'commander-shazly', 1639, 'e4,c5,Nf3,d6,d4,Nf6,dxc5,Qa5+,Nc3,Qxc5,Bb5+,Bd7,Bxd7+,Nbxd7,Qd3,Ng4,O-O,Nde5,Nxe5,Qxe5,g3,a6,Nd5,Rc8,f4,Qh5,Qe2,Rc4,Ne3,Rxe4,Qxg4,Qc5,Re1,f5,Qd1,g6,Qd3,Bg7,Qb3,Bd4,Kf2,b5,c3,Bf6,Qc2,g5,fxg5,Bxg5,b4,Qb6,Kf3,Qc6,Kf2,f4,gxf4,Rxf4+,Kg1,Bh4,Re2,Rg8+,Ng2,Rf7,Qe4,Qxc3,Qa8+,Kd7,Qb7+,Qc7,Qxc7+,Kxc7,Rc2+,Kd7,Be3,Bf6,Rd1,Be5,Rf1', 'Bxh2+,Kxh2,Rxf1', 'https://lichess.org/training/eH6gM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eh7LP', 'Rapid', 'a_stoykov86', 2026, 'vddd', 1985, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,f4,b5,Qf3,Bb7,Bd2,Nf6,Bd3,Bc5,Nb3,Bb6,f5,Nc6,fxe6,dxe6,O-O-O,Rc8,Bg5,Ne5,Qf1,Ke7,Bxf6+,gxf6,g4,Nxg4,Nd2,Ne3,Qf3,Rhd8,Rhf1,Bd4,Nb3,Nxf1,Rxf1,Be5,Kb1,Bxc3,bxc3,Qxc3,Qf2,e5', 'Qxf6+,Kd7,Qxf7+,Kc6,Rf6+', 'https://lichess.org/training/eh7LP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eh8Fc', 'Classical', 'johnted', 1766, 'malcomar', 1881, 'Nc3,d5,d4,Bf5,Bf4,e6,Nf3,a6,e3,c5,dxc5,Bxc5,Bd3,Ne7,Bxf5,Nxf5,e4,Ne7,exd5,Nxd5,Nxd5,exd5,Qe2+,Be7,O-O-O,O-O,Rhe1,Nc6,Ne5,Bf6,Qd3,d4,Nxc6,bxc6,Be5,c5,Bxf6,Qxf6,Re2,Qf4+,Kb1,Qxh2,f4,Qxf4,Ree1,Qg5,Rh1,Qg6,Qc4,Qb6,Qd3,g6,g4,Rab8,b3,Qf6,Rdf1,Qg5,Qh3,h5,gxh5,Qxh5,Qxh5,gxh5', 'Rfg1+,Kh7,Rxh5#', 'https://lichess.org/training/Eh8Fc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eh8nc', 'Classical', 'rafaahasan', 1710, 'Sadrik88', 1777, 'd4,d5,e3,Bf5,g3,Nf6,Bg2,e6,h3,h6,Nf3,Bd6,Nbd2,c6,a4,Qc7,c4,Bd3,cxd5,Bxg3,dxe6,O-O,Qb3,Ba6,exf7+,Rxf7,Qe6,Nd5,Ne5', 'Bxf2+,Kd1,Nxe3#', 'https://lichess.org/training/eh8nc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EHaMv', 'Blitz', 'Ansaari', 1520, 'Non-smoking', 1665, 'e4,e5,Nf3,d6,a4,Bg4,Bc4,h6,d3,c6,Nbd2,a6,O-O,Nd7,b4,b5,axb5,cxb5,Bb3,Ngf6,Bb2,Be7,Re1,O-O,h3,Bh5,c3,Nb6,d4,exd4,cxd4,d5,e5,Ne4,Bc2,Bxb4,Nxe4,dxe4,Rxe4,Nc4,Ba3,Bxf3,gxf3,Bxa3,Rxa3,Nxa3,Qd3,Nxc2,Qxc2,Rc8,Qd3,Qd5,f4,Rc4,f5,Rd8,f6,g6,Rg4,Rxd4,Rxg6+,fxg6', 'Qxg6+,Kf8,Qg7+,Ke8,Qe7#', 'https://lichess.org/training/EHaMv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EhBCM', 'Blitz', 'miguelsimoes', 2318, 'IM ImIsmaelKarim', 2495, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,d4,Be7,Re1,b5,Bb3,d5,dxe5,Be6,Nbd2,Nc5,c3,O-O,Bc2,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf3,Qxd1,Rxd1,Bg4,Be3,Rad8,Rxd8,Rxd8,Nd4,Bd7,Rd1,Ne6,Nxe6,Bxe6,Rxd8+,Bxd8,b3,Be7,f4,g6,Kf2,c5,Kf3,h5,h3,h4,Ke4', 'Bf5+,Kd5,Bxc2', 'https://lichess.org/training/EhBCM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EhBDn', 'Blitz', 'Dunnite', 2098, 'Timbo_Schach', 2005, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,Bxa6,Nc3,g6,e4,Bxf1,Kxf1,d6,Nf3,Qc8,h4,Bg7,g3,O-O,Kg2,Na6,a4,c4,Nd4,Nc5,Nc6,Qb7,Re1,e5,Qc2,Nfd7,Nb5,Nd3,Re2,Qxb5,axb5,Rxa1,Bd2,N7c5,b6,f5,exf5,gxf5,Qxc4,f4,gxf4,exf4,b4,f3+,Kg3,fxe2,bxc5,Rg1+,Kh2,e1=Q,Bxe1,Rxe1,Qxd3,Rxf2+,Kg3,Rf6,b7,Rg1+,Kh2,Rg4,b8=Q+,Bf8,Ne7+,Kh8,Qh3,Rf2+,Kh1,Rc4,Qd3', 'Rc1+,Qf1,Rcxf1#', 'https://lichess.org/training/EhBDn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EHCgJ', 'Rapid', 'Beglezsvk', 1799, 'mattdeck', 1793, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,c5,d5,exd5,cxd5,O-O,Bg5,d6,e4,Nbd7,Bb5,h6,Bh4,Qa5,Bxd7,Bxc3+,bxc3,Qxc3+,Kf2,Bxd7,Ne2,Qe5,Bg3,Qe7,a4,Nh5,Qb3,b6,Nc3,Nxg3,hxg3,f5,Rae1,fxe4,Rxe4,Qg5,f4,Qg6,Qc4,Rae8,Rhe1,Rxe4,Rxe4,Bf5,Re7,Bg4,Ne4,Re8,Rxe8+,Qxe8,Nxd6,Qe7,Ne4,Bf5,d6+,Qf7,Qe2,Qd5,Kf3,Qb3+,Qe3,Qxa4,g4,Bd7,g5,hxg5,Nxg5,Qd1+,Ke4,Qxd6,Qb3+,Be6,Nxe6,Qc6+,Ke3', 'c4,Qb4,Qxe6+', 'https://lichess.org/training/EHCgJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eHCrZ', 'Rapid', 'cmxRenato', 2019, 'GoMentalGoBloody', 1990, 'e4,e5,d3,Nc6,c3,d5,Qe2,Nf6,Nf3,Bg4,g3,d4,c4,Bb4+,Bd2,Qd7,Bg2,Bxf3,Bxf3,Bxd2+,Nxd2,O-O-O,O-O,h5,Rfc1,g5,Nf1,g4,Bg2,h4,a3,Nh5,b4,f5,exf5,Qxf5,b5,Ne7,c5,hxg3,fxg3,c6,bxc6,Nxc6,Rab1,Kc7,Rb5,Nf6,Rcb1,Rb8,a4,Nd7,Be4,Qg5,Qb2,b6,cxb6+,Rxb6,Rxb6,axb6,Qb5,Qf6,Rc1,Nc5,Bg2,Rf8,Rc2,Ra8,Rf2,Qe6,Rf7+,Nd7,Bd5,Qg6,Nd2,Ra5,Qb3,Rc5,Be6,Rc1+,Kg2,Nb8,Nc4', 'Qxe6,Qxb6+,Qxb6', 'https://lichess.org/training/eHCrZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EHDLV', 'Classical', 'vugiabao2010', 1921, 'lrapel', 1969, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,Qe2,O-O,O-O,d6,d4,exd4,cxd4,Bg4,Rd1,Qd7,Nc3,a6,h3,Bh5,Bf4,Rae8,g4,Nxg4,hxg4,Qxg4+,Bg3,Qxf3,d5,Ne5,Bxe5,dxe5,Qxf3,Bxf3,Rd3,Bg4,Rg3,f5,exf5,Bxf5,d6+,Kh8,dxe7,Rxe7,Re1,c6,Rf3,g6,Bd3,Kg7,Bxf5,gxf5,Rfe3,Kf6,f4,e4,Rg3,Rd8,Re2,Rd4,Reg2,e3,Rf3,Rd3,Kf1', 'e2+,Nxe2,Rxf3+', 'https://lichess.org/training/EHDLV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eheGV', 'Classical', 'airforceusb', 1731, 'ziroki', 1736, 'd4,d5,Nc3,Nf6,Bf4,e6,Nf3,Bd6,Bg3,O-O,e3,a6,Bd3,Nc6,Bxd6,cxd6,O-O,e5,dxe5,dxe5,Be2,Bg4,h3,Bh5,Nh2,Bxe2,Nxe2,Qd6,c3,h5,Ng3,g6,f4,h4,Nh1,exf4,exf4,Qc5+,Rf2,Ne4,Qg4,Nxf2,Nxf2,Qe7,Nf3,Kg7,Nxh4,Rh8', 'Nf5+,Kf8,Nxe7', 'https://lichess.org/training/eheGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eHeHg', 'Rapid', 'panglimakumbang', 1816, 'Ramazan_123', 1727, 'f4,d5,d3,e5,fxe5,Nc6,Nf3,d4,Bf4,Bg4,h3,Bxf3,exf3,g5,Bg3,Bb4+,c3,dxc3,bxc3,Ba5,Be2,Nh6,O-O,Nf5,Bf2,Nxe5,d4,Ng6,Qa4+,Qd7,Qxa5,Nd6,Qxg5,Ne7,Nd2,O-O-O,Ne4,Rhg8,Nxd6+,Qxd6,Qb5,Kb8,Rab1,b6,a4,Nd5,Rfc1,Nf4,Bf1', 'Nxh3+,Kh1,Nxf2+', 'https://lichess.org/training/eHeHg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ehEwI', 'Rapid', 'Majnd', 1900, 'cheddarman1', 1909, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Bb4+,Nd2,Nc6,Nf3,Qe7,a3,Ngxe5,Nxe5,Nxe5,e3,Bxd2+,Qxd2,O-O,Be2,d6,O-O,Bf5,Rfd1,Rad8,f3,a6,e4,Be6,Rac1,h6,Qb4,b6,Bxe5,a5,Bxd6,Rxd6,Qc3,Rfd8,Rxd6,Rxd6,c5,Rc6,b4,axb4,axb4,bxc5,bxc5,Bd7,Bd3,Qg5,Qa3,Rg6,Qa8+', 'Kh7,Rc2,Qe3+', 'https://lichess.org/training/ehEwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ehf2Z', 'Rapid', 'ujjwaldeepgupta', 2024, 'hussam-kawwas', 2057, 'e4,d6,d4,g6,Nf3,Bg7,Nc3,Nc6,Be3,e5,dxe5,Nxe5,Nxe5,Bxe5,Bd4,f6,Bxe5,fxe5,Bc4,Nf6,Qd3,Qe7,Nd5,Nxd5,Qxd5,c6,Qd2,Be6,Bxe6,Qxe6,Qg5,h6,Qh4,g5,Qh5+,Kd7,O-O-O,Raf8,Qe2,Kc7,Rhe1,Qxa2,Qd3,Rd8,Qc3,Rhf8,f3,g4,Qe3,gxf3,gxf3,Qa1+,Kd2,Qa5+,c3,Kb8,Ra1,Qc5,Rg1,Rf6,Qxc5,dxc5+,Ke2,Rf4,Rad1,Rdf8,Rg3,Rh4,h3,b5,Rd6,Kc7,Re6,Rh5,Rg7+,Kb6,Rgg6,Rc8,Rxh6,Rxh6,Rxh6,b4,Re6,Rh8,Rxe5,Rxh3,Kf2,Rh2+,Ke3,Rxb2,f4,Rb3,f5,Rxc3+,Kd2,Rf3,Ke2,Rh3,f6,c4,f7,Rh2+,Ke3,Rh8,Re8,Rh3+,Kd4,Rf3,Rf8,c3', 'Rb8+,Kc7,f8=Q,Rxf8,Rxf8', 'https://lichess.org/training/Ehf2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eHfkC', 'Blitz', 'CM RobertoRochaMAO', 2269, 'Artem_Stepanenko', 2334, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,Bg7,Bd3,O-O,Be3,c6,Qd2,Re8,O-O-O,b5,a3,a5,Na2,b4,a4,b3,cxb3,Ba6,Kb1,Bxd3+,Qxd3,Na6,h3,Qc7,Nd2,Reb8,Nc4,Nb4,Nxb4,Rxb4,Rc1,Rab8,Rc3,d5,exd5,Nxd5,Nd2,Nxc3+,bxc3,Rxa4,g3,Qd6,Bf4,Qa3,Bxb8', 'Qa1+,Kc2,Ra2#', 'https://lichess.org/training/eHfkC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EHFmO', 'Rapid', 'StanisLav1972', 1875, 'Shahmatict-Sv', 2134, 'e4,c6,d4,d5,e5,Bf5,f4,e6,h4,h5,Be2,g6,Nf3,c5,c4,dxc4,Bxc4,cxd4,Nxd4,Bg4,Qa4+,Nd7,Be3,Ne7,Nc3,Nc8,Rc1,Nb6,Qb3,Bc5,Bb5,O-O,Ne4,Be7,O-O,Bxh4,Nd6,Nd5,Nxb7,Qb6,Nd6,a6,Bc4', 'Qxb3,Bxb3,Nxe3', 'https://lichess.org/training/EHFmO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EHfWg', 'Rapid', 're10658', 1673, 'Chakkrit', 1683, 'Nf3,Nf6,d4,d5,b3,c5,c3,cxd4,cxd4,e6,Bb2,Bd7,g3,Nc6,Bg2,Bb4+,Nbd2,Ne4,O-O,Nxd2,Nxd2,O-O,a3,Ba5,b4,Bc7,Nf3,Ne7,Rc1,Rc8,Ne5,Ng6,Qd2,Bxe5,Rxc8,Qxc8,dxe5,a6,Rc1,Qb8,f4,Bc6,Bd4,Re8,e3,Ne7,g4,Bb5,Bc5,b6,Bd6,Qd8,Bc7,Qd7,Bxb6,Ng6,Bc7,Bc4,Bd6,Nh4,Bh1,f6,Qf2,Ng6,Qb2,f5,g5,Ne7,Bg2,g6,Bf1,Bxf1,Kxf1,Qb5+,Kf2,Rc8,Bxe7,Rc4,Bc5,a5,Rb1,a4,Qe2,Kg7,Rc1,h6,h4,h5,Qd3', 'Rxf4+,Ke2,Rf2+,Kxf2,Qxd3', 'https://lichess.org/training/EHfWg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EHGFP', 'Rapid', 'AvriiFischer', 1746, 'mhtate', 1707, 'd4,d5,c4,e5,dxe5,d4,Nf3,c5,e3,Bg4,exd4,Bxf3,Qxf3,cxd4,Be2,Nc6,O-O,Nxe5,Qe4,Qe7,Qxd4,Nc6,Qd2,Rd8,Qe3,Nf6,Re1,Rd6,Qxe7+,Bxe7,Nc3,O-O,Bf4,Rd7,Rad1,Rfd8,Rxd7,Rxd7,h3,h5,Bg5,Bd8,Bxf6,Bxf6,Bxh5,Nb4,a3,Nc2,Rc1,Bxc3,Rxc2,Bf6,b4,Be5,g3,Rc7,Re2,f6,Bg6,Rxc4,f4,Bd4+,Kf1,Rc8,Re7,b5,Rd7,Bb6,Bf5,Rc3,Rd3,Rc1+,Ke2,Rg1,Be4,a5,Bc6,axb4,axb4,Rb1,Rd6,Rb2+,Kd3,Rxb4', 'Bd5+,Kf8,Rxb6', 'https://lichess.org/training/EHGFP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EHgth', 'Blitz', 'daan1685', 1562, 'alude', 1833, 'd4,f5,Bf4,Nf6,e3,e6,Nf3,Be7,Be2,O-O,Nbd2,b6,c3,Bb7,Qc2,d6,h3,Nbd7,O-O-O,a5,g4,Nd5,gxf5,exf5,Rdg1,c5,Bd3,cxd4,Bxf5,dxc3,Bxh7+,Kh8,Rxg7,Kxg7,Qg6+,Kh8,Rg1,cxd2+,Kxd2,Bf6,Bg5,Qe7,Bxf6+,Qxf6,Qh5,Nf4,exf4,Qxf4+,Ke2,Ba6+', 'Bd3+,Qh6,Qxh6#', 'https://lichess.org/training/EHgth');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EhI5I', 'Rapid', 'nandi007', 1884, 'Kali11041997', 1867, 'd4,d5,Nf3,Bf5,e3,e6,c4,Nf6,Be2,g6,O-O,Bg4,Nc3,Nc6,cxd5,exd5,b3,Qd7,Bb2,O-O-O,Rc1,h5,Qc2,Ne4,Nxe4,dxe4,Ne5,Nxe5,Bxg4,Nxg4,Qxe4,Bd6,g3,h4,d5,hxg3,Bxh8,gxh2+,Kh1,Rxh8,Qd4,Be5,Qxa7,Qd6,Qa8+,Kd7,Qa4+,Ke7,Qxg4,f5,Qc4,Rh5,f4,Bb2,Qxc7+,Qxc7,Rxc7+,Kd6,Rxb7,Kxd5,Rd1+,Ke4,Re7+,Kf3,Rf1+,Ke2,Rb1,Bc3,b4,Bd2,a4,Kf3,b5,Bxe3,b6,Bxf4,b7,Rg5,a5,Kf2,b8=Q', 'Rg1+,Rxg1,hxg1=Q#', 'https://lichess.org/training/EhI5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EhiDs', 'Rapid', 'NggakPerluMandi', 1641, 'Paulo8228', 1720, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,d3,d6,Bg5,Nd4,Qd1,Bg7,Nf3,Bg4,h3,Bxf3,gxf3,h6,Bxf6,Qxf6,c3,Nxf3+,Kf1,O-O-O,Nd2,Nxd2+,Qxd2,Qe7,Rc1,f5,Bd5,c6,Bb3,fxe4,dxe4,Rhf8,Rh2,Rf3,Qe2,Rdf8,Bd1,Qh4,Rc2,Rxh3', 'Qg4+,Qxg4,Bxg4+', 'https://lichess.org/training/EhiDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eHjjk', 'Rapid', 'vgik', 1920, 'gmslowey1', 2015, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,Be7,d5,Nd7,Bd3,Ndf6,c4,O-O,O-O,c6,Re1,Nc5,Bc2,Bg4,h3,Bh5,Nc3,Re8,b4,Ncd7,g4,Bg6,Bxg6,hxg6,Bf4,Nh7,dxc6,bxc6,Bxd6,Bf6,Rc1,Nb6,c5,Bxc3,Rxc3,Nd5,Rc4,Qf6,Rxe8+,Rxe8,Kg2,a6,a3,Qb2,Qc1', 'Ne3+,Kg3,Nxc4', 'https://lichess.org/training/eHjjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EHKqg', 'Rapid', 'Harsha-96_76', 1782, 'DimastX', 1768, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nf6,d4,Bg4,h3,Bf5,Bg5,Be7,Bd3,Ne4,Bxe7,Qxe7,O-O,Nxc3,bxc3,Bxd3,Re1,Be4,Nd2,O-O,f3,Qa3,fxe4,Qxc3,exd5,Qxd4+,Kh1,Qxd5,c4,Qg5,Nf3,Qc5,Qa4,Nc6,Rab1,b6,Rb5,Qd6,Rd5,Qf6,Red1,h6,Rd7,Rfd8,Rxd8+,Rxd8,Rxd8+,Nxd8,Qxa7,Qa1+,Kh2,Ne6,Qa8+,Kh7,Qc6,Qxa2,Ne5,Nf4,Qe4+,Ng6,Nxf7,b5,Ne5,Qa6,cxb5,Qd6,Kh1,Qd1+,Kh2,Qh5,Nxg6,Qxg6,Qxg6+,Kxg6,Kg3,Kf6,Kf4,g5+,Ke4,Ke6,g4,Kd6,Kf5', 'Kc5,Kg6,Kxb5,Kxh6,c5,Kxg5,c4', 'https://lichess.org/training/EHKqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ehM3D', 'Rapid', 'rambler02041970', 1678, 'Holylowy', 1693, 'e4,c5,f4,Nc6,Nf3,d6,h3,g6,g4,e6,Bb5,Ne7,f5,exf5,exf5,gxf5,Ng5,h6,d3,hxg5,Bxg5,Qd7,Qf3,fxg4,hxg4,Rxh1+,Qxh1,Qxg4,Bxe7,Qg3+,Kd2,Qf2+,Kc3,Bg7+,Kb3,Kxe7,Nc3,Be6+,Bc4,Bxc4+,dxc4,Na5+,Ka4,Nxc4,Qxb7+,Kf6', 'Ne4+,Ke6,Nxf2', 'https://lichess.org/training/ehM3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EHN26', 'Rapid', 'burhahn', 1727, 'rodeo', 1721, 'e4,e5,Bc4,Nf6,d3,Nc6,Bg5,Na5,Bd5,c6,Bb3,Nxb3,axb3,Be7,Nf3,d6,h3,Nh5,Bxe7,Qxe7,Nc3,Nf4,Rg1,f5,g3,Nxh3,Rh1,Ng5,Nxg5,Qxg5,Qf3,h6,Qh5+,Qxh5,Rxh5,fxe4,Nxe4,Ke7,Kd2,Bg4,Rh4,Be6,f4,exf4,Rxf4,a6,Re1,Kd7,g4,Rhf8,Rxf8,Rxf8,Rg1,Rf4,g5,Rg4', 'Rxg4,Bxg4,gxh6,gxh6,Nf6+,Ke6,Nxg4', 'https://lichess.org/training/EHN26');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EhN74', 'Classical', 'bakhtiar_faraji', 1709, 'LefterisCh', 1686, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,h6,O-O,a6,d3,Bg4,Nc3,Nd4,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/EhN74');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ehnMy', 'Classical', 'Nike95', 2017, 'linboyuan', 1990, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,d5,Bb3,Nc6,Re1,Bc5,d4,Nxd4,Be3,Bg4,c3,Nxb3,axb3,Qf6,Qxd5,Bxe3,Rxe3,Nd6,Nxe5,Be6,Qc5,Rd8,Na3,O-O,Qxc7,Qg5,Nac4,Nxc4,Nxc4,Qb5,Re2,Rc8,Qa5,Bxc4,bxc4,Qxc4,Rae1,a6,h3,Qb3,Qe5,h6,Qe7,Qb5,Qa3,Rfe8,Rxe8+,Rxe8,Rxe8+,Qxe8,Qc5,Qe6,b4,Qc6,Qxc6,bxc6,f4,f5,Kf2,Kf7,Ke3,Ke6,Kd4,Kd6,h4,g6,h5,gxh5,g3,h4,gxh4,h5,Kc4,Kd7', 'Kc5,Kc7,c4', 'https://lichess.org/training/ehnMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ehO2z', 'Classical', 'janzupancic', 1805, 'JaeTea', 1829, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nbd2,Qe7,g3,Ngxe5,Nxe5,Nxe5,Bg2,Nd3+,Kf1,Nxf4,gxf4,Qf6,e3,d6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/ehO2z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EhOxh', 'Classical', 'Mahamad666', 1662, 'Roni10', 1646, 'e4,e5,Bc4,Nf6,Nc3,Bb4,Nd5,Nxd5,Qg4,Nf6,Qxg7,Rf8,c3,Bc5,d4,exd4,Bg5,d5,Bxd5,Nbd7,e5,dxc3,exf6,cxb2,Rd1,Bb4+,Ke2,Bc3', 'Bxf7+,Rxf7,Qg8+,Nf8,Rxd8+', 'https://lichess.org/training/EhOxh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eHQcc', 'Blitz', 'bojackhorseman1', 1894, 'Dimati3', 1744, 'e4,c5,b4,cxb4,a3,bxa3,Bxa3,Nc6,d4,e6,Bxf8,Kxf8,Nf3,Nge7,c4,a6,d5,exd5,cxd5,Nb8,d6,Ng6,Nc3,Nc6,Nd5,b5,Bxb5,Bb7,Nc7,axb5,Nxa8,Bxa8,Qd5,b4,Ng5,Nge5,f4,h6,fxe5,hxg5,O-O,f6,exf6,gxf6,Rxa8,Qxa8', 'Rxf6+,Ke8,Qf7+,Kd8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/eHQcc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ehqX1', 'Rapid', 'R9825549694', 1926, 'Michael_C_Price', 1915, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f4,Nc6,Bc4,Nxd4,Qxd4,Bg7,e5,Nd7,Qd5,O-O,exd6,Nb6,Qb5,Bd7,Qb3,exd6,O-O,Nxc4,Qxc4,a6,Bd2,b5,Qd5,Be6,Qf3,Rc8,a3,Bf5,Rac1,d5,Qxd5,Qb6+,Kh1,Rfd8,Qf3,Rxd2,h3,Rxc2,Rxc2,Bxc2,Nd5,Qb7', 'Nf6+,Bxf6,Qxb7', 'https://lichess.org/training/ehqX1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EhRlb', 'Rapid', 'Sfide_Mentali', 1899, 'MorphyAgain', 1757, 'e4,d5,e5,e6,d4,c5,c3,Qb6,Nf3,Nc6,a3,Bd7,b4,cxd4,cxd4,a5,b5,Na7,Nc3,Ne7,Bd3,Rc8,Qb3,Nec6,Be3,Be7,Rb1,Nd8,Na4,Qc7,b6,Qc6,bxa7,Qxa4,Qxa4,Bxa4,Bb5+,Bxb5,Rxb5,Bxa3,O-O,Bb4,Bd2,Ra8,Bxb4,axb4,Ra1,O-O,Nd2,Nc6,Rxb7,Nxd4,Rxb4', 'Nc2,Rb7,Nxa1', 'https://lichess.org/training/EhRlb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EhT3o', 'Rapid', 'De_Nikin', 1752, 'haakon0603', 1769, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bf5,Bf4,e6,Bc4,c6,a3,Nbd7,O-O,Nb6,Bb3,Bd6,Bxd6,Qxd6,Ne5,h5,Qd2,Ng4,h3,Nxe5,Qg5,Ng6,Rfe1,Nf4,Rad1,Bxh3,g3,Ng6,Ne4,Qe7,Qe3,O-O-O,Nc5,Nd5,Bxd5,Rxd5,Qb3,b6,Na6,Kb7,c4,Rg5,Nc5+,Ka8,Ne4,Rg4,Kh2,Nf4,gxf4,Rxf4,Qxh3,f5,Qg3,Rh4+,Kg2,Rg4,d5,cxd5,cxd5,Rxg3+,Nxg3,Qg5,dxe6,h4,e7,hxg3,e8=Q+,Rxe8,Rxe8+,Kb7,fxg3,f4,Rd3,Qg4,Re4', 'f3+,Rxf3,Qxe4', 'https://lichess.org/training/EhT3o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eHVQc', 'Rapid', 'palitra', 1945, 'Tramtararam', 1758, 'e4,e5,Nc3,Bb4,Nge2,Bxc3,Nxc3,d6,Bc4,Be6,Bxe6,fxe6,d3,Nf6,Bg5,O-O,O-O,Qe8,f4,a6,fxe5,dxe5,Rf3,Qg6,Bh4,Nbd7,Qe2,Nh5,Rxf8+,Rxf8,Rf1,Nf4,Qd2', 'Nh3+,Kh1,Rxf1#', 'https://lichess.org/training/eHVQc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EHvS6', 'Bullet', 'chessprodigy202020', 1988, 'metinevran35', 1917, 'd4,e5,d5,Bc5,c4,d6,e4,Ne7,Nc3,f5,exf5,Bxf5,Nf3,O-O,Be2,e4,Nd4,Nd7,O-O,Bg6,Ne6,Qe8,Nxf8,Qxf8,Be3,b6,Nb5,Rc8,Nxa7,Re8,Nb5,Rc8,Bg4,Bf5,Be2,Ne5,a3,Qe8,Bg5,N7g6,b4,h6,Bc1,Nh4,bxc5,Nhf3+,gxf3,exf3,Bxf3,Qg6+,Kh1,Bh3,Rg1,Qf6,Bg2,Bg4,Qd4,bxc5,Qc3,Rf8,Bb2,Qh4,Raf1,Bf3,Nxc7,Rf7,Ne6,Ng4,h3,Bxg2+,Kxg2', 'Rxf2+,Rxf2,Qxf2+,Kh1,Qh2#', 'https://lichess.org/training/EHvS6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EhxDT', 'Rapid', 'GreekFreak13', 2311, 'Ademola', 2245, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,d4,Nxe4,dxe5,O-O,Bd5,Nc5,Nc3,Bb7,Bf4,d6,Re1,Nxe5,Bxb7,Nxb7,Nxe5,dxe5,Bxe5,Bd6,Qh5,Bxe5,Rxe5,Qd4,Rd1,Qb4,Nd5,Qxb2', 'Ne7+,Kh8,Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/EhxDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EI0cA', 'Rapid', 'Zelk', 1854, 'lasanho', 1789, 'e4,c6,Ne2,d5,d4,dxe4,g3,Bf5,Bg2,Nf6,Nbc3,e6,Bg5,Nbd7,Nxe4,Bxe4,Bxe4,Qa5+,Bd2,Qb6,Bg2,Bb4,c3,Bd6,b4,a6,O-O,Nf8,c4,Qd8,c5,Bc7,Bg5,h6,Bf4,Bxf4,Nxf4,b5,Bxc6+,N8d7,Bxa8,Qxa8,Rc1,Nd5,c6,N7b6,Nxd5,Nxd5,Qf3,O-O,c7,Rc8,a3,Qa7,Qe4,Rxc7,Rxc7,Qxc7,Qe5,Qc3,Qe1,Qxa3,Qa1,Qxb4,Qxa6,Nc3,Kg2,Qxd4,Rc1,Qd5+,Kh3,Qf5+,Kg2,Qd5+,Kf1', 'Qh1#', 'https://lichess.org/training/EI0cA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EI24j', 'Rapid', 'Serafim1956', 2074, 'TSOANELOLESIAGM', 2276, 'd4,c5,d5,Nf6,Nc3,d6,e4,e6,f4,exd5,exd5,Be7,Nf3,O-O,Bd3,Na6,O-O,Re8,Bxa6,bxa6,h3,Rb8,b3,Bf5,Bb2,Ne4,Nxe4,Bxe4,c4,Bf6,Bxf6,Qxf6,Ng5,Bg6,Qg4,h5,Qd7,Re7,Qc6,Bd3,Rfe1,Be2,Rac1,a5,Rc2,Bd3,Rxe7,Qxe7,Rb2,Qe3+,Kh1,Qc1+,Kh2,Qxb2,Qxd6,Rf8,Qxc5,Qxa2,d6,Qxb3,d7,Qxc4', 'Qxf8+,Kxf8,d8=Q#', 'https://lichess.org/training/EI24j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ei271', 'Blitz', 'crazhyouse', 2273, 'FM harunov', 2291, 'd4,Nf6,Nc3,g6,e4,Bg7,e5,Ng8,f4,d6,Nf3,Bg4,Bc4,Bxf3,Qxf3,Nc6,Be3,e6,d5,exd5,Nxd5,Nge7,O-O-O,O-O,Nf6+,Bxf6,exf6,Nf5,g4,Nxe3,g5,Nxc4,Qh3,Kh8,Qh6,Rg8,Rd3,Qf8', 'Qxh7+,Kxh7,Rh3+,Qh6,Rxh6#', 'https://lichess.org/training/Ei271');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ei43X', 'Blitz', 'aviaviavi', 2167, 'bullettrain18', 1928, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bd3,Nf6,Bg5,Bb4,O-O,Bxc3,bxc3,Qxc3,Bxf6,gxf6,Ne2,Qc7,Qb1,Nc6,Qb2,e5,Nc3,d6,Nd5,Qd8,f4,O-O,fxe5,fxe5,Rf3,Kh8,Raf1,Nd4,Rxf7,Rxf7,Rxf7,Be6,Rf2,Bxd5,exd5,Qc7,Rf6,Rc8,Qc1,Nxc2,Qf1,Ne3', 'Rf8+,Kg7,Qf6#', 'https://lichess.org/training/ei43X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EI48p', 'Classical', 'Chesspistol', 2247, 'chess2dam', 2087, 'c4,Nf6,Nc3,g6,Nf3,Bg7,g3,O-O,Bg2,c6,O-O,d5,d4,e6,Ne5,Nbd7,Nxd7,Bxd7,cxd5,exd5,Bf4,Qb6,Na4,Qb5,Nc5,b6,Nxd7,Nxd7,Qd2,Rfe8,Rfe1,Nf8,e4,Ne6,Be3,Rad8,a4,Qa6,exd5,cxd5,a5,bxa5,Rxa5,Qb6,Rxd5,Rxd5,Bxd5,Nxd4,Bxd4,Rxe1+,Qxe1,Qxd4', 'Qe8+,Bf8,Qxf7+,Kh8,Qxf8#', 'https://lichess.org/training/EI48p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EI8GV', 'Rapid', 'Barakuda83', 1695, 'Easymao', 1865, 'd4,e6,d5,exd5,Qxd5,Nf6,Qb3,Nc6,Nf3,Bc5,Bg5,d6,e3,Bb6,Nc3,Be6,Bc4,d5,O-O-O,O-O,Nxd5,Na5,Nxf6+,gxf6,Rxd8,Nxb3+,Bxb3,Raxd8,Bxf6,Rc8,c4,Bf5,h3,Rfe8,g4,Bg6,Ne5,c5,f4,Be4,Rd1,Bc7,Nd7,h6,g5,hxg5,Bxg5,Kg7,Nf6,Re6,Rg1,Bg6,Nd5,Kf8,Rh1,Be4,Rh2,Bxd5,cxd5,Rxe3,h4,Rce8,h5,b5,Bc2,Rf3', 'Bh6+,Ke7,Re2+,Kd8,Bg5+,f6,Bxf6+,Kd7,Bf5+', 'https://lichess.org/training/EI8GV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eIA0S', 'Rapid', 'phenixrogue', 1723, 'hardeng', 1724, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,e5,Qf5,Bd3,Qe6,O-O,Ne7,f4,Nc6,Qc3,b6,Be4,Bb7,f5,Qxe5', 'Qxe5+,Nxe5,Bxb7', 'https://lichess.org/training/eIA0S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EIBGe', 'Rapid', 'robinv65', 1723, 'Vredosartorium', 2174, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,Nc3,d6,Bg5,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,O-O,h4,a6,h5,h6,Bh4,b5,Bd5', 'Nxd5,Nxd5,Bxh4', 'https://lichess.org/training/EIBGe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eiDFJ', 'Classical', 'Polo60', 2014, 'Tandileo25', 2006, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,Ng4,Bxf7+,Kxf7,Ng5+,Kg8,Qxg4,Nxe5,Qxd4,Nf7,Nxf7,Kxf7,Qd5+,Ke8,O-O,Be7,Re1,h6,Nc3,d6,Qh5+,Kf8,Nd5,Bf6,c3,Bd7,Be3,Qe8,Qf3,Qf7,Nxc7', 'Bc6,Qf4,Qxc7', 'https://lichess.org/training/eiDFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eieJx', 'Blitz', 'andersonaap', 1637, 'sparta79', 1661, 'e4,c5,Qh5,e6,Be2,Nc6,d3,Nd4,Bd1,Nf6,Qh4,Be7,Qg3,O-O,Bh6,g6,Bxf8,Bxf8,c3,Nc6,Na3,d5,exd5,Qxd5,Qf3,Qe5+,Qe3,Qd5,Bf3,Qd7,Nc4,b5,Ne5,Nxe5,Qxe5,Nd5,c4,Bg7,Qe2,Nf4,Qe4,Nxd3+,Ke2,Nxb2,Qxa8', 'Qd3+,Ke1,Bc3#', 'https://lichess.org/training/eieJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EIFyL', 'Rapid', 'lokjj', 2011, 'ajvanduijvenbode', 2048, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Bb5+,Nc6,O-O,Bd7,Nc3,e6,Ne5,Bd6,Nxd7,Nxd7,Qg4,O-O,Bd3,Nf6,Qh4,Qc7,Bg5,Ne4,Nxe4,dxe4,Bxe4,f5,Bd3,h6,Be3,Rf7,d5,g5,Qxh6,Rh7,Qxg5+,Kh8,Qf6+,Rg7,dxc6,Bxh2+,Kh1,Be5,Qxg7+,Qxg7,g3,Qh7+,Kg2,Kg7,f4,Bc7,cxb7,Rb8,Bd4+,Kf7,Rh1,Qg6,Rh3,Rxb7,Rah1,Ke8,Rh8+,Kd7,R1h7+,Kc6,Rh6,Qg4,Rxe6+,Kd5,Re5+,Bxe5,Bxe5,Re7,Rd8+,Kc6,Rd6+,Kb7', 'Ba6+,Kc7,Rg6+,Rxe5,Rxg4', 'https://lichess.org/training/EIFyL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EIgSt', 'Blitz', 'jucayemu', 1523, 'Der-Wir-Ing', 1518, 'e4,c5,Bc4,Nc6,Nf3,Nf6,Nc3,e6,d3,d5,Bb5,a6,exd5,exd5,Bxc6+,bxc6,Qe2+,Be6,O-O,Bd6,Re1,O-O,Ne5,Qc7,Bf4,Rfe8,Na4,Bf5,Rad1,Kf8,c3,Bg4,f3,Nh5,fxg4,Nxf4,Qe3,Bxe5,Nxc5,Bd6,Qd4,Bxc5,Qxc5+,Kg8,Rf1,Ne6,Qf2,Re7,d4,Rae8,Rd3,Ng5,h4,Ne4,Qf3,Qb8,g5,Qxb2,Re3,Nd2', 'Qxf7+,Rxf7,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/EIgSt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EiHgQ', 'Classical', 'mikemodano', 1917, 'vitor_carvalho1', 1782, 'd4,Nf6,c4,d6,Nc3,g6,b3,Bg7,Bb2,b6,e4,Bb7,Bd3,Nc6,Nf3,O-O,O-O,Nb4,Nd5,Nxd3,Nxf6+,Bxf6,Qxd3,c5,Rad1,e6,e5,Bg7,Qe3,cxd4,Rxd4,d5,Rfd1,Rc8,Qe2,Qe7,Bc1,Rfd8,Bg5,f6,exf6,Bxf6,Bxf6,Qxf6,Qe3,Re8,Qh6,Qg7,Qg5,h6,Qe5,Qf7,Rf4,Qg7,Qxg7+,Kxg7,Ne5,Rf8,Rxf8,Rxf8,f3,Rf5,Re1,Kf6,Nd7+,Ke7,Ne5,Kf6,Ng4+,Kg7,Rxe6,dxc4,Re7+,Rf7,Rxf7+,Kxf7,Nxh6+,Kg7,Ng4,cxb3,axb3,a5,Kf2,Bd5,b4', 'a4,Ke3,a3', 'https://lichess.org/training/EiHgQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eIIUg', 'Rapid', 'viratkhollii', 1710, 'Alex27816', 1725, 'e4,c5,Nf3,e6,d4,d5,Bb5+,Bd7,Bxd7+,Qxd7,exd5,exd5,O-O,Bd6,Re1+,Ne7,dxc5,Bxc5,Bf4,O-O,Nc3,Nbc6,Nb5,a6,Nc3,Ng6,Bg3,d4,Ne4,Ba7,Qd3,Rad8,Rad1,Qf5,a3,Nf4,Bxf4,Qxf4,c4,dxc3,Qc2,cxb2,Rxd8,Rxd8,Qxb2,h6,Qxb7,Nd4,Qxa7,Nxf3+,gxf3,Qxf3,Qe3,Qg4+,Qg3,Qe6,h3,f5,Qc7,Re8,f3,fxe4,Rxe4,Qg6+,Rg4,Qb1+,Kf2', 'Qe1+,Kg2,Re2#', 'https://lichess.org/training/eIIUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eIK8u', 'Rapid', 'Elisariocamazi', 1675, 'Michael1704', 1648, 'e4,e5,b3,d6,Bb2,Be6,d4,exd4,Bxd4,Nc6,Bb2,Nge7,Bb5,Qd7,Nf3,O-O-O,a4,Kb8,O-O,a6,Bxc6,Qxc6,e5,dxe5,Nxe5,Rxd1', 'Nxc6+,Nxc6,Rxd1', 'https://lichess.org/training/eIK8u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EILOv', 'Rapid', 'mayar009', 1834, 'Novichok7', 1769, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,Nf6,Re1,e6,c3,Be7,d4,cxd4,cxd4,O-O,d5,Ne5,Bb3,b6,Bf4,Nxf3+,Qxf3,e5,Bg3,Bg4,Qe3,Rc8,Nc3,a6,f4,exf4,Qxf4,b5,Bh4,Bd7,e5,dxe5,Qxe5,Bc5+,Kh1,Re8,Qg3,Rxe1+,Rxe1,Nh5,Bxd8,Nxg3+,hxg3,Rxd8,Rf1,Re8,d6,Be6,Bxe6,fxe6,Ne4,Bd4,Rc1,Bxb2', 'd7,Rd8,Rc8,Kf8,Rxd8+', 'https://lichess.org/training/EILOv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EIm37', 'Blitz', 'arkos11', 2240, 'DeepFilinn', 2423, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,a6,c4,e5,Nc2,Nc6,Nc3,Be7,Be3,O-O,Qd2,Be6,Be2,Rc8,Rc1,Nd7,O-O,f5,exf5,Bxf5,Bd3,Bxd3,Qxd3,Bg5,Qxd6,Bxe3+,Nxe3,Qg5,Rfe1,Nf6,Ncd5,Nh5,b4,Kh8,b5,axb5,cxb5,Nd4,Rxc8,Nxf3+,Kh1', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/EIm37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eiNcJ', 'Rapid', 'subh9893', 1669, 'SICBLOOM', 1690, 'e4,e5,Bc4,c6,c3,d5,exd5,cxd5,Bb3,Be6,Nf3,Nc6,Ba4,Nf6,Nxe5,Qc7,d4,Bd6,Bf4,O-O,O-O,Bxe5,Bxe5,Nxe5,dxe5,Qxe5,Nd2,a6,Nf3,Qc7,Qd3,h6,Rad1,b5,Bc2,Bg4,h3,Bxf3,Qxf3,Rad8,Rfe1,d4,Bd3,dxc3,bxc3,Kh8,Bb1,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,Kh2,a5,Qe3,b4,cxb4,axb4,Bc2', 'Qc7+,Qg3,Qxc2', 'https://lichess.org/training/eiNcJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EInpS', 'Rapid', 'karenesteves2', 1934, 'AalborgG', 1975, 'd4,d5,e3,Nf6,f4,c5,Nf3,Nc6,c3,Bg4,Bd3,cxd4,exd4,e6,O-O,Be7,Qb3,Rb8,Ne5,Bh5,Qa4,Bg6,Nxc6,bxc6,Qxc6+,Kf8,Bxg6,hxg6,Nd2,Rb6,Qa4,Bd6,Nf3,Ne4,Ne5,Qh4,Nf3,Qh6,Qxa7,Bxf4,Bxf4,Qxf4,Qxb6', 'Qe3+,Rf2,Qxf2+,Kh1,Ng3#', 'https://lichess.org/training/EInpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EInQ2', 'Rapid', 'Chessvesterson', 1613, 'Evgenii84', 1608, 'e4,c6,d4,d5,e5,Bf5,h3,h6,Bd3,Qc8,Bxf5,Qxf5,Nf3,e6,Nc3,Bb4,Bd2,b5,g4,Qg6,a3,Bxc3,Bxc3,Ne7,Bb4,a5,Bxe7,Kxe7,Nd2,Nd7,Qf3,Rhf8,O-O-O,f6,exf6+,Nxf6,Qg3,Rac8,f4,h5,g5,Ne4,Nxe4,Qxe4,Rhf1,Rf5,g6,c5,Qh4+,Kd7,Rde1,Qxd4,Rxe6,Kxe6,Re1+,Kd7', 'Qe7+,Kc6,Re6#', 'https://lichess.org/training/EInQ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EInsy', 'Rapid', 'Cristian_Guevara', 2074, 'Danieliski_12', 2164, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Qc7,Qg4,Ne7,Qxg7,Rg8,Qxh7,cxd4,Qd3,dxc3,f4,b6,Nf3,Ba6,Qd4,Bxf1,Kxf1,Nf5,Qd3,Nd7,Be3,Qc4,Bd4,Qxd3+,cxd3,Nc5,Bxc3,Rc8,Bd2,Nxd3,g3,Rc2,Ke2,Nc5,Rhc1,Rb2,Rab1,Rxb1,Rxb1,Kd7,Bb4,Kc6,Ng5,Rh8,Rh1', 'Nxg3+,hxg3,Rxh1', 'https://lichess.org/training/EInsy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EINuO', 'Rapid', 'avelinoant', 2163, 'mayar009', 1938, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,O-O,c3,d6,Bg5,h6,Bh4,a6,d4,exd4,cxd4,Ba7,Nc3,Bg4,d5,Ne5,Be2,Re8,Nxe5,Bxe2,Nxf7,Bxd1,Nxd8,Raxd8,Raxd1,g5,Bg3,Nxe4,Nxe4,Rxe4,Rfe1,Rb4,b3,h5,h3,h4,Bh2,g4,hxg4,Rxg4,Kf1,Rf8,Rd2,h3,gxh3,Rh4,Kg2,Rf7,Bg3,Rh5,Rc1,Bb6,Rc3,Ba5,Rcd3,Bxd2,Rxd2,Rff5,Rc2,Rxd5,Rxc7,Rb5,Bxd6,Rhd5,Bf4,Rd4,Be3,Rh4,Kg3,Rh7,Rc8+,Kf7,h4,Rg7+,Kf3,Rf5+,Ke4,Kg6,Kd3,Ra5,a4,Rh5,Rc4,b5,axb5,axb5,Rg4+,Kf7,Bg5,Ke6,Rb4,Rb7,Ke4,Kd6,Kd4,Kc6,f4,Rd7+,Ke4', 'Kc5,Rxb5+,Kxb5', 'https://lichess.org/training/EINuO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eIp0E', 'Rapid', 'zabatista', 1922, 'Krecikus', 1951, 'e4,e5,Nf3,Nc6,Nc3,Bc5,h3,Nf6,a3,d6,Bc4,Be6,Nd5,Nxd5,exd5,Nd4,dxe6,Nxe6,Bxe6,fxe6,O-O,O-O,d4,e4,Nh2,Bb6,c4,e5,d5,Qf6,b4,Bxf2+,Kh1,Qh4,Ng4,Bd4,Ra2,h5,Nh2,Rxf1+,Qxf1,Rf8,Qe2', 'Rf2,Qxf2,Bxf2', 'https://lichess.org/training/eIp0E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eiqaj', 'Rapid', 'bauerpower', 1948, 'DutchMen', 2077, 'e4,d5,exd5,Qxd5,d4,e5,Nf3,Nc6,Be3,Bg4,Be2,O-O-O,Nc3,Bb4,O-O,Bxc3,bxc3,Nf6,h3,Be6,c4,Qd7,d5,Bxd5,cxd5,Nxd5,Bg5,f6,Bh4,Kb8,c4,Nc3,Qxd7', 'Nxe2+,Kh2,Rxd7', 'https://lichess.org/training/Eiqaj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EIqDv', 'Classical', 'cueman87', 1707, 'Siggi1', 1644, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bg5,e6,Bd3,b5,Qd2,Bb7,f3,Be7,b4,Nbd7,O-O,d5,exd5,Nxd5,Bxe7,Qxe7,Nxd5,Bxd5,Rae1,Nf6,Nf5,Qf8,Be4,Rd8,Qe3,Bxe4,fxe4,g6,e5,Nd5,Nd6+,Rxd6,Qc5,Rd7,Qc8+,Ke7,Qxa6,Nc7,Qc6,Qa8', 'Rxf7+,Kxf7,Qxd7+', 'https://lichess.org/training/EIqDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EItCp', 'Blitz', 'WAILLAS', 1958, 'creutzfeldt-jakob', 1932, 'e3,f5,d4,Nf6,c4,g6,Bd3,Bg7,Nc3,O-O,Nge2,d6,O-O,Nc6,f3,e5,d5,Nb4,e4,Nxd3,Qxd3,f4,b4,g5,c5,h5,cxd6,cxd6,a4,g4,b5,h4,b6,Qxb6+,Kh1,h3,Rg1,Qf2,Ba3,Kf7,Bxd6,Rh8,Bxe5,g3,Bxf4', 'hxg2+,Rxg2,Rxh2+,Rxh2,Qxh2#', 'https://lichess.org/training/EItCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eIwhv', 'Rapid', 'MCarlssen', 1709, 'ataykoz', 1714, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,c5,Be2,Nc6,O-O,Qb6,Re1,Be7,dxc5,Qxc5,Be3,Qb4,Rb1,O-O,Nxd5,Nxd5,Qxd5,Rd8,Qb5,Bd7,a3,Qxb5,Bxb5,a6,Bd3,Bf6,b4,Rab8,Bb6,Re8,Bc7,Rbc8,Rxe8+,Rxe8,Bg3,Ne5,Nxe5,Bxe5,Bxe5,Rxe5,h3,Bb5,c4,Bc6,Kf1,Be4,Rb3,g6,Bxe4,Rxe4,c5,Re6,Rd3,Kg7,g4,b6,cxb6,Rxb6,Kg2,Rb5,f4,a5,Rd4,Kf6,Kf3,Ke6,Ke4,f5+,gxf5+,Rxf5,Rd3,Rh5,Rb3,Kd6,b5,Kc7,a4,Kb6,Rf3,Rh4,Kd4,g5,Ke5,gxf4,Kf5,Rh6,Rxf4,Rf6+,Ke5,Rh6,Rf3,Rh4,Rf4,Rxh3,Rf6+,Kc5,Rc6+,Kb4,b6,Kxa4,b7,Rb3,Rc7,Ka3', 'Rc3,Rxc3,b8=Q', 'https://lichess.org/training/eIwhv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EiYqH', 'Blitz', 'xkostas', 2148, 'Palle_K', 2124, 'e4,e6,d4,d5,Nd2,Be7,c3,Nf6,Bd3,c5,e5,Nfd7,f4,cxd4,cxd4,Nc6,Ne2,O-O,Nf3,f6,O-O,fxe5,fxe5,Qb6,a3,Ndxe5,Nxe5,Nxe5,Bc2,Bd7,Kh1,Ng4,Nf4,e5,Nxd5,Qxd4,Nxe7+,Kh8,Qxd4', 'Rxf1+,Qg1,Nf2#', 'https://lichess.org/training/EiYqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EIznR', 'Rapid', 'Blockheads', 2073, 'Franzis99', 2155, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Bf4,Bb4+,Nbd2,Nge7,a3,Bxd2+,Qxd2,Ng6,O-O-O,O-O,Nxd4,Ncxe5,e3,Nxf4,exf4,Ng4,Bd3,g6,Bc2,c5,Nb5,Be6,f5,Bxc4,Nd6,Ba6,fxg6,hxg6,Qf4,Qh4,f3,Qh6,Qxh6,Nxh6,Rd5,b6,h4,Rad8,h5,Kg7,hxg6,fxg6,Rhd1,Rb8,Rg5,Rf6,Ne4,Re6,Rd7+,Nf7,Rxa7,Bb7,Bb3,Nxg5,Nxg5,Re7,Ne6+,Kf6,Nf4,g5,Nh5+,Kg6,Ng3,Kf6,Bc4,Bc6', 'Nh5+,Ke5,Rxe7+', 'https://lichess.org/training/EIznR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJ1CY', 'Rapid', 'crazyking8', 1737, 'HossamShehata', 1703, 'e4,c5,Nf3,g6,d4,Nf6,e5,Nd5,Bc4,e6,O-O,cxd4,Nxd4,Nc6,Nxc6,dxc6,Bxd5,exd5,Re1,Bc5,Nc3,O-O,Bh6,Qh4,Qd2,Bxf2+,Qxf2,Qxh6,Ne2,Bf5,Nd4,Be4,c4,Rfe8,Nf3,Qf4,Rad1,Bxf3,Qxf3,Qxc4,b3,Qc5+,Kh1,Re7,Qf6,Rae8,Rf1,Qe3,Rde1,Qh6,e6,Qg7', 'exf7+,Qxf7,Qxf7+,Rxf7,Rxe8+', 'https://lichess.org/training/EJ1CY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ej3Td', 'Rapid', 'chesskonda', 1859, 'Luiggi95', 1923, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,Nc3,Nf6,f3,O-O,Be2,d5,Nxc6,bxc6,exd5,Nxd5,Nxd5,cxd5,c3,Be6,O-O,Qc7,Qd2,Rfd8,Rad1,Be5,f4,Bg7,g3,Bh3,Rf2,Rd7,Bd4,Rad8,Bxg7,Kxg7,Qd4+,Kg8,Bd3,f6,f5,e5,fxe6,Bxe6,Qxf6,Qd6,Re1,Re7,Rfe2,Rde8,Bb5,Qb6+,Kh1,Qxb5,Rxe6,Rxe6,Rxe6,Rf8,c4,dxc4,Qc3', 'Qd5+,Kg1,Qxe6', 'https://lichess.org/training/Ej3Td');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ej4yj', 'Blitz', 'madhav2800', 2107, 'RaiVam', 2107, 'e4,e6,d4,d5,Nc3,Bb4,a3,Bxc3+,bxc3,c5,e5,Ne7,f4,g6,Nf3,h5,Be2,b6,O-O,Ba6,Ng5,Bxe2,Qxe2,Nbc6,dxc5,bxc5,c4,Nd4,Qd3,O-O,cxd5,exd5,c4,Nef5,cxd5,Qxd5,Ne4,Kg7,Nf6,Qd8,Bb2,Qa5,Bc3', 'Qxc3,Qxc3,Ne2+,Kf2,Nxc3', 'https://lichess.org/training/Ej4yj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ej7w0', 'Rapid', 'LeBlaBlaZ', 1658, 'Aziz225', 1621, 'e4,Nc6,d4,d5,e5,e6,c3,f6,Nf3,fxe5,Nxe5,Nxe5,dxe5,Qh4,Be3,Nh6,Nd2,Nf5,Qe2,Nxe3,Qxe3,g6,O-O-O,Bd7,Nf3,Qh5,Be2,Bh6,Nd2,Qh4,Qg3,Qxg3,hxg3,Bxd2+,Rxd2,O-O,f4,a6,Rh2,Bb5,Bg4,Rae8,Rd1,c5,Rdh1,Rf7,Bf3,b6,g4,Rxf4,Rxh7,Rf7,Rh8+,Kg7', 'R1h7#', 'https://lichess.org/training/Ej7w0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ejABS', 'Classical', 'AGENTDouble00', 1771, 'TacticalTim', 1853, 'b3,d5,Bb2,Nc6,e3,Nf6,Be2,e5,Nf3,e4,Nd4,Bd7,c4,dxc4,Bxc4,Be7,O-O,a6,a4,Nb4,f3,exf3,Qxf3,O-O,Na3,Bg4,Qf2,Nbd5,Be2,Bxe2,Qxe2,Qd7,Nf5,Bxa3,Bxa3,Rfe8,Bb2,Qe6,Rf3,Ne7,Bxf6,Qxf6,Raf1,Nxf5,Rxf5,Qd6,Rxf7,Rf8,Qc4,Kh8,R1f3,Rxf7,Qxf7,h6,d4,b5,Rg3,Rg8,Rg6,Qb4,h3,bxa4,Qf4,a3', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/ejABS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eJaHF', 'Rapid', 'polkovnik', 1829, 'sapeg', 1896, 'e4,c6,d3,d5,e5,Bf5,g4,Bg6,d4,e6,h4,h6,h5,Bh7,f3,c5,c3,c4,b4,a5,b5,a4,a3,Qb6,Ra2,Qxb5,Rb2,Qc6,Nh3,b5,g5,hxg5,Nxg5,Bf5,f4,g6,Bg2,Nh6,hxg6,fxg6,Bf3,Qd7,Kf2,Na6,Qe1,O-O-O,Bd1,Nc7,Bc2,Bg7,Bxf5,gxf5,Kf3,Ng4,Rxh8,Rxh8,Rg2,Bh6,Qh4,Qd8,Qg3,Kd7,Rg1,Bxg5,fxg5,Qf8,Ke2,Rh2+,Rg2,Rxg2+,Qxg2,Qg8,Bf4,Na6,Qh3,Qg7,Qh5,Nb8,g6,Nc6', 'Qh7,Qxh7,gxh7', 'https://lichess.org/training/eJaHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EjALo', 'Rapid', 'handsomechuck', 2062, 'Aljehinologia', 1941, 'c4,d5,cxd5,Qxd5,Nc3,Qa5,Qa4+,Qxa4,Nxa4,b6,d4,Bb7,Nf3,f6,e3,Bc6,Nc3,e6,Bc4,Bd7,Nb5,Na6,O-O,c6,Nc3,Nc7,e4,Ne7,Bf4,Rc8,Rad1,Ng6,Bg3,Bb4,a3,Bxc3,bxc3,Ne7,Bd6,Kd8,Rfe1,Ne8,Bxe7+,Kxe7,Bb3,Nc7,d5,Nb5,dxe6,Bxe6,c4,Nd6,c5,bxc5,Bxe6,Kxe6,e5,Nb7,exf6+,Kxf6,Ne5,Rhd8,Nd7+,Kf7,Ne5+,Kf6,Rxd8,Rxd8,Nxc6,Rd3,g4,Rxa3,Ne5,Ra5,Nc4,Ra6,Ne3,Rb6,Nd5+,Kg5,Nxb6,axb6,Rb1,Kxg4,Rxb6,Nd8,Rb8,Ne6,Rc8,Kf5,Rc6,Ke5,Kf1,Kd5,Rc8,h6,Ke1,Ke5,Kd2,Kf4,Rc6,Kf5,Ke3,g5,f3,h5,Rc8,h4,Rc6,Ke5,h3,Kd5,Rc8,Ke5,Kd3,Kd5,Rg8,Ke5,Rc8,Kf4,Rc6,Ke5,Kc4,Kf5,Rd6,Ke5,Rd5+,Kf4,Rd1,Kxf3,Re1', 'Nf4,Re5,Nxh3', 'https://lichess.org/training/EjALo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJaWB', 'Blitz', 'IM Goranor', 2268, 'griefrelayer', 2208, 'Nf3,Nf6,c4,c6,d4,d5,e3,e6,Nbd2,g6,Bd3,Bg7,e4,O-O,e5,Nfd7,O-O,dxc4,Nxc4,c5,Bg5,Qc7,Rc1,Nc6,Re1,cxd4,Nd6,Ndxe5,Nxc8,Nxd3', 'Ne7+,Qxe7,Bxe7', 'https://lichess.org/training/EJaWB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ejckt', 'Rapid', 'spinnaker2020', 2072, 'Mandru', 2010, 'd4,f5,Bf4,Nf6,e3,d6,Nf3,Nbd7,Bd3,c6,Bxf5', 'Qa5+,Nbd2,Qxf5', 'https://lichess.org/training/Ejckt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ejdgI', 'Rapid', 'roroman', 1740, 'Mukhtar505', 1813, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,a3,O-O,d3,h6,h3,d6,O-O,Be6,Ba2,Qd7,Nh2,Nd4,Nd5,Nh7,c3,Nb5,Ne3,a6,Neg4,Bxg4,Nxg4,Kh8,Kh1,f5,exf5,Rxf5,Be3,Raf8,Bxc5,dxc5,Qe2,Nd6,Nxe5,Qe8,Rae1,Ng5,d4,cxd4,cxd4,Nde4,Kg1,c5,Bb1,cxd4,Bxe4,Rxe5,f3,Nxe4,fxe4,Rxf1+,Kxf1,Qg6,Qf3,Qf6,Ke2,b5,Kd3,Qd6,Rc1,a5,Rc8+,Kh7,Qf7,Rg5,g4,Qg3+,Kxd4,Qe5+,Ke3,Qg3+,Kd4,Qg1+,Kc3', 'Qc1+,Kd3,Qxc8', 'https://lichess.org/training/ejdgI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJdmt', 'Blitz', 'MORGAN1973', 2115, 'Lev_shlak1992', 2108, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,a6,a3,c5,c3,Nc6,b4,cxd4,cxd4,Nge7,Nbd2,Qb6,Nb3,Ng6,Be3,Be7,Rc1,O-O,O-O,Rac8,Qd2,f6,Nc5,fxe5,Nd7,Qd8,Nxf8,Qxf8,Nxe5,Ngxe5,dxe5,Nxe5,Rxc8,Qxc8,Rc1,Qd8,f4,Nd7,g4,Be4,Bd4,Bf6,Qc3,Bxd4+,Qxd4,h6,Qa7,b6,Rc7,Qh4,Rxd7', 'Qe1+,Bf1,Qe3#', 'https://lichess.org/training/EJdmt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ejdP0', 'Rapid', 'TheRoughRider', 1671, 'gyca', 1662, 'e4,c5,f4,Nc6,Nf3,g6,Bb5,Bg7,Bxc6,bxc6,Nc3,e6,d3,Ne7,Bd2,d5,e5,d4,Ne4,Nf5,O-O,O-O,c3,Ba6,c4,Rb8,Nxc5,Bc8,Rb1,Ne3,Bxe3,dxe3,Re1,f6,Rxe3,fxe5,Nxe5,Bxe5,fxe5', 'Qd4,Qe2,Qxc5', 'https://lichess.org/training/ejdP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ejEau', 'Blitz', 'gammadrill', 2497, 'FM jankotracz', 2590, 'd4,Nf6,c4,c5,Nf3,cxd4,Nxd4,e5,Nc2,d5,cxd5,Qxd5,Qxd5,Nxd5,e4,Nb4,Nxb4,Bxb4+,Bd2,Bxd2+,Kxd2,Be6,Bb5+,Ke7,Ke3,a6,Ba4,b5,Bb3,Nc6,Bxe6,fxe6,Nd2,Nd4,Rac1,Rac8,Nf3,Nxf3,Kxf3,Rhd8,Ke3,a5,h4,a4,a3,Rc4,Rxc4,bxc4,Rc1,Rd3+,Ke2,Rd4,f3,Kd6,h5,Kc5,Rh1,Rd3,Rc1,Kd4,Rc2,h6', 'Rd2,Rxd2+,Kxd2', 'https://lichess.org/training/ejEau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ejeGI', 'Rapid', 'DonLarry', 1802, 'frost-bite', 1785, 'e4,e5,Nf3,d6,d4,Nd7,Nc3,Be7,Bb5,c6,Bc4,h6,Be3,Ngf6,Qd2,a6,dxe5,dxe5,Na4,b5,Bxf7+,Kxf7,Nc3,Nf8,Qe2,Bg4', 'Nxe5+,Kg8,Nxg4,Nxg4,Qxg4', 'https://lichess.org/training/ejeGI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ejEPR', 'Rapid', 'luismangione', 1622, 'Pepsan4o', 1638, 'e4,c5,Bc4,e6,Nf3,Nc6,d3,b6,Nc3,Nf6,Bf4,Nd4,O-O,d5,e5,Nxf3+,Qxf3,dxc4,exf6,Qxf6,Qxa8,Qd8,Qxa7,Bd6,Bxd6,Qxd6,Nb5,Qc6,Nc7+,Kd8,Rad1,Bb7,dxc4+', 'Kxc7,f3,Ra8,Qxa8,Bxa8', 'https://lichess.org/training/ejEPR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJeqj', 'Rapid', 'trahan7x7', 1825, 'Azer65', 1744, 'd4,g6,e4,Bg7,Nf3,b6,c4,Bb7,Nc3,Nf6,Bg5,Nxe4,Nxe4,Bxe4,Qe2,Bb7,Qd2,Nc6,Be2,d6,O-O,Qd7,Rac1,h6,Be3,g5,Rfe1,f5,Qc2,O-O-O,a3,f4,Bd2,Nxd4,Nxd4,Bxd4,h3,Kb8,Bg4,Qe8,Bc3,Bxc3,Qxc3,e5,b4,h5,Bf3,e4,c5,exf3,Rxe8,Rhxe8,cxb6,cxb6,Qc7+,Ka8,Qg7,fxg2,Qxg5,Rg8,Qxf4,Rdf8,Qxd6,Rf3,a4', 'Rxh3,Qh2,Rxh2', 'https://lichess.org/training/EJeqj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eJfDe', 'Classical', 'Fedele', 1756, 'iamtheteacher', 1867, 'e4,e5,Nf3,Nf6,Bc4,Nc6,d4,d6,dxe5,dxe5,Qxd8+,Nxd8,Nxe5,Nxe4,O-O,Nd6,Bb3,Bf5,Bg5,f6,Bxf6,gxf6,Nf3,Be6,Nd4,Bxb3,axb3,N8f7,Re1+,Ne5,f4,O-O-O,fxe5,fxe5,Ne6,Re8,Nxf8,Rhxf8,Rxa7,Kb8,Ra5,b6,Raxe5,Rd8,Nc3,Nb7,Re7,Rd2,Nb5,Rxc2,Rxh7,Rc8,Rb1,c6,Nd4,Rd2,Nf3,Rc2,b4,c5,bxc5,Nxc5,b4,Nd3,b5', 'Rc1+,Ne1,Rxb1', 'https://lichess.org/training/eJfDe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EjFMh', 'Blitz', 'Josephqwerty', 1581, 'sharkby', 1543, 'Nf3,d5,d4,Bf5,Bg5,h6,Bf4,e6,h3,Bd6,Bxd6,Qxd6,e3,Nf6,Bd3,Bxd3,Qxd3,Nc6,c4,b6,cxd5,Nxd5,Nc3,Ncb4,Qd2,a5,Nxd5,Qxd5,a3,Nc6,O-O,O-O,Rac1,Qd7,Rc3,Ne7,Rfc1,Rac8,Qc2,Nd5,Ne5,Qd6,Rc4,f6,Nf3,e5,e4,Nf4,d5,Rf7,Kf1,h5,Rc6,Qd7,g3', 'Qxh3+,Ke1,Qh1+,Kd2,Qxf3', 'https://lichess.org/training/EjFMh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJfXL', 'Blitz', 'arian_madani', 1879, 'arwenpogi', 2468, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,d5,Ne5,bxc3,Nxc4,Qd4,O-O,Qxe4,Nd6,Qd3,Qf6,Bg5,Qf5,Qxf5,Nxf5,g4,h6,Bf4,Ne7,c4,d6,h3,b5,Rfe1,Ng6,Bg3,bxc4,Rac1,Bb7,Red1,Ne7,Rxc4,Bxd5,Rc3,f5,Rxc7,Bxf3,Rxd6,Rab8,Be5,Rb1+,Kh2,fxg4,hxg4,h5,Rxe7', 'Rh1+,Kg3,h4#', 'https://lichess.org/training/EJfXL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ejHY5', 'Blitz', 'arul_alexander', 1863, 'aprilmcronin', 1822, 'd4,f5,c4,Nf6,Bg5,e6,Bxf6,Qxf6,Nf3,Bb4+,Nc3,d6,a3,Bxc3+,bxc3,Nd7,Qb3,b6,g3,Bb7,Bg2,O-O,O-O,Kh8,a4,a5,Nd2,Bxg2,Kxg2,f4,Qb5,Rad8,Qc6,e5,Nf3,Qf5,dxe5,dxe5,Qxc7,e4,Nd4,f3+,exf3,exf3+,Kh1,Qg4,Rae1,Rc8,Qd6,Qh3,Rg1,Rf6,Qd5', 'Qxh2+,Kxh2,Rh6+,Qh5,Rxh5#', 'https://lichess.org/training/ejHY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eji1V', 'Rapid', 'rudaksa', 1954, 'csing35', 1931, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e3,d6,Bd3,Nbd7,O-O,e5,e4,Ne8,d5,Nc5,b4,Nxd3,Qxd3,f5,Re1,f4,Bb2,g5,Nd2,h5,f3,g4,Rac1,Qg5,Re2,h4,Rc2,Nf6,Nd1,h3,c5,gxf3,Nxf3,Qh5,Red2,Ng4,Bc1,Rf6,Re2,Rh6,Nf2,hxg2,Nxg4,Qxg4,Rxg2,Qh5,Ne1,Bh3,Rgf2,Rg6+,Ng2,Rf8,Rf3,Bxg2,Rxg2,Rxg2+,Kxg2,Qg4+,Kf1,Kf7,Qe2,Rh8', 'Rxf4+,Qxf4+,Bxf4', 'https://lichess.org/training/Eji1V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJI23', 'Blitz', 'daviddR8', 1610, 'seamoth', 1789, 'd4,d6,Bf4,Nf6,Nf3,g6,e3,Bg7,h3,O-O,Be2,c6,O-O,Nbd7,Bh2,Qa5,Nbd2,b5,c4,a6,Qb3,Rb8,cxb5,axb5,a4,b4,Nc4,Qc7,Rfc1,Nb6,Nxb6,Qxb6,a5,Qc7,Rc4,Be6,a6,Bxc4,Bxc4,Qa7,Ng5,Nd5,e4,h6,Nxf7,Rxf7,exd5,Rff8,dxc6+,Kh7,d5,Rxf2,Kh1,Rxb2,Qg3,Be5,Qg4,Bxh2,Bd3,Rg8,Qe6,Be5,Qf7+,Rg7', 'Bxg6+,Kh8,Qf8+,Rg8,Qxh6#', 'https://lichess.org/training/EJI23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eJIqz', 'Rapid', 'claire2412', 1763, 'LittlePawn68', 1953, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,d6,h3,h6,Nc3,O-O,Be3,Nh7,Qd2,Be6,Bb3,a6,Nd5,b5,Nxe7+,Nxe7,d4,exd4,Nxd4,Bxb3,Nxb3,c5,Rad1,c4,Nd4,Qc7,Nf3,Rad8,Rfe1,Ng6,Bf4,Ne5,Bxe5,dxe5,Qc3,f6,b3,Qb7,bxc4,Rxd1,Rxd1,Qxe4,cxb5,axb5,Qb3+,Kh8,Qxb5,Qxc2,Qb3,Qxb3,axb3,Kg8,b4,Rb8,Rb1,Kf7,Kf1,Ke6,Ke2,Nf8,Kd3,Nd7,Kc3,Nb6,Nd2,Nd5+,Kc4,Nf4,Rg1,g5,Ne4,Ne2,Rb1,Nf4,Nc5+,Kd6,Rd1+,Kc6,Rg1,Ne2,Rh1,Nd4,f3,Nc2,Rc1,Ne3+,Kb3,Kb5,Nd7,Rb7', 'Rc5+,Ka6,Ra5#', 'https://lichess.org/training/eJIqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ejLac', 'Rapid', 'Arjoglar', 1977, 'jelbs1970', 1842, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,Nf6,Nxe5,d5,Re1,Be7,Bb5+,c6,Bf1,O-O,d4,h6,b3,Bd6,c3,Qc7,c4,Bxe5,dxe5,Ng4,f4', 'Qb6+,Be3,Nxe3', 'https://lichess.org/training/ejLac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJLXB', 'Blitz', 'Tonyvsa', 1674, 'blini1337', 1658, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,Bb4+,Nc3,Nge7,a3,Ba5,b4,Bb6,Bg5,f6,Bh4,O-O,Be2,Ng6,O-O,Qe7,e5,Nxh4,Nxh4,fxe5,Nf3,exd4,Nb5,e5,Re1,a6,Bc4+,Kh8,Nbxd4,Nxd4,Nxd4,Qh4,Rxe5,Bxd4,Rh5,Qxf2+,Kh1,Bxa1', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/EJLXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJmBd', 'Classical', 'KusaDas', 1760, 'AKR28', 1832, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bd3,d6,O-O,Nf6,h3,O-O,Nc3,Re8,Bg5,h6,Bh4,Qe7,Qf3,g5,Bg3,Nd7,Rfe1,Ne5,Bxe5,Qxe5,a3,Bd4,Kh1,Bxc3,bxc3,Qxc3,Reb1,Be6,Re1,d5,exd5,Bxd5', 'Bh7+,Kxh7,Qxc3', 'https://lichess.org/training/EJmBd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eJmUL', 'Classical', 'Lesnick86', 1786, 'DoroshenkoAS', 1665, 'd4,e6,c4,d5,a3,a5,e3,Nf6,c5,b6,cxb6,c5,Qa4+,Bd7,Bb5,Bxb5,Qxb5+,Qd7,Qxd7+,Nbxd7,b7,Rb8,Bd2,a4,Nc3,cxd4,exd4,Rxb7,Nxa4,Ne4,Nf3,Nxd2,Kxd2,f6,Rhc1,Ra7,Rc8+,Kf7,Nc5,Nxc5,dxc5,g6,Nd4', 'Bh6+,Kd1,Rxc8', 'https://lichess.org/training/eJmUL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eJNbp', 'Rapid', 'pablokosco', 1781, 'JonaS98', 1710, 'e4,c5,d4,cxd4,Qxd4,d6,Qe3,Nc6,c3,Nf6,Bd3,e6,f4,Qc7,Ne2,d5,e5,Nd7,O-O,Bc5,Nd4,Nb4,a3,Nxd3,Qxd3,a5,Be3,b6,Nd2,Ba6,c4,Bxd4,Bxd4,Bxc4,Nxc4,Qxc4,Qe3,Nc5,Rac1,Qd3', 'Bxc5,Qxe3+,Bxe3', 'https://lichess.org/training/eJNbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJok1', 'Rapid', 'omsidd', 2209, 'Salman_Ali_Khan', 2282, 'd4,e6,c4,f5,e4,fxe4,Nc3,Nf6,Bg5,Bb4,f3,O-O,fxe4,Bxc3+,bxc3,h6,Bxf6,Qxf6,Nf3,b6,Bd3,Bb7,O-O,Qe7,Ne5,Rxf1+,Qxf1,Nc6,Ng6,Qg5,e5,Ne7,h4,Qe3+,Kh2,Nxg6,Bxg6,Qxc3', 'Qf7+,Kh8,Rf1', 'https://lichess.org/training/EJok1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJpLx', 'Blitz', 'FM carloseduar100', 2259, 'FM ElGranFreezer03', 2380, 'd4,d6,Nf3,Nf6,c3,g6,e3,Bg7,Bd3,O-O,Nbd2,c5,O-O,Nc6,Re1,Bg4,a3,Nd7,h3,Bxf3,Nxf3,cxd4,exd4,e5,dxe5,dxe5,Bb5,Qc7,Be3,a6,Ba4,Rfd8,Qe2,b5,Bb3,Na5,Ba2,Rac8,Rad1,Nf8,Bg5,Rxd1,Rxd1,Nc4,Rd5,h6,Bh4,Ne6,Bg3,Nf4,Bxf4,exf4,Bxc4,bxc4,Nd4,Qb7,Rd6,Bf8,Rf6,g5,h4,Bg7,hxg5,hxg5,Rf5,f6,Qe6+,Kf8,Rxf6+,Bxf6,Qxf6+,Qf7,Qxg5,Re8,Qc5+,Kg8,Qg5+,Qg7,Qxf4,Re1+,Kh2,Qh7+,Kg3,Qg6+,Kf3', 'Qd3+,Kg4,Re4', 'https://lichess.org/training/EJpLx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ejsoo', 'Rapid', 'Tykkekrumpen', 1838, 'Sch8itan', 1833, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Nc3,Nxc3,bxc3,Be7,c4,Be6,cxd5,Bxd5,Be2,O-O,O-O,c5,c4,Be4,Re1,Nc6,d5,Bxf3,Bxf3,Nd4,Ba3,b6,Qd3,Bf6,Be4,g6,Re3,Qc7,Rae1,Rfe8,Bb2,Re7', 'd6,Qxd6,Bxa8', 'https://lichess.org/training/ejsoo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EjTYQ', 'Blitz', 'kolotok', 1764, 'Zechariahchess', 1783, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Nc3,Nc6,Be2,Qd7,O-O,O-O-O,a4,h5,Bg5,f6,Bh4,g5,Bg3,h4,Nxh4,Bxe2,Qxe2,gxh4,Bf4,Bh6,Bxh6,Nxh6,Nb5,Nf5,Rfd1,a6,c3,axb5,axb5,Nb8,Ra8,Rdg8,c4,dxc4,Qxc4,Nd6,Qa2,Qg4,g3,Qxd1+,Kg2,hxg3', 'Qe6+,Kd8,Rxb8+,Nc8,Rxc8#', 'https://lichess.org/training/EjTYQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJtyu', 'Rapid', 'Butron', 1877, 'Eloychees33', 1964, 'd4,Nf6,Nc3,d5,Bg5,Bf5,e3,h6,Bh4,e6,Bd3,Bxd3,cxd3,Be7,h3,Nfd7,Bxe7,Qxe7,Nf3,O-O,O-O,a6,Re1,b6,e4,c6,Na4,b5,Nc5,Nxc5,dxc5,Qxc5,Rc1,Qd6,exd5,exd5,d4,Nd7,Ne5,Nxe5,Rxe5,Rfe8,Rxe8+,Rxe8,Qc2,Rc8,Qf5,Qe6,Qc2,Kf8,Qc5+,Ke8,Kf1,Kd7,Qa7+,Rc7,Qxa6,Qe4,Qb6,Qd3+,Kg1,Qd2,Qc5,Qxb2,Re1,Kc8,Qb6,Qd2,Re8+,Kd7,Re7+,Kxe7,Qxc7+,Kf8', 'Qd8#', 'https://lichess.org/training/EJtyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eju6s', 'Rapid', 'Jameschi', 1740, 'JWarb', 1712, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d5,Bb3,Be6,exd5,Nxd5,c4,Nf4,Bxf4,exf4,Qd2,Qf6,Nc3,O-O-O,Ne4,Bb4,Qe2,Nd4,Nxd4,Qxd4,Rad1,h5,a3,Bd6,Kh1,Qe5,f3,h4,h3,g5,d4,Qg7,Nxd6+,Rxd6,d5,Bd7,Rd2,g4,fxg4,f5,Rxf4,fxg4,hxg4,h3,g3,h2,Bd1,c6,Qf1,b5,Rxh2,Rxh2+,Kxh2,Rh6+,Kg2,Qxb2+,Rf2,Qxa3,Rf8+,Kc7,Rf7,Qb2+,Rf2,Qd4,dxc6,Bxc6+,Bf3,Bxf3+,Rxf3,Qxg4,cxb5,Qh3+,Kf2,Qh2+,Ke3,Re6+,Kd4', 'Qd2+,Qd3,Rd6+,Kc4,Rxd3', 'https://lichess.org/training/Eju6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ejurA', 'Rapid', 'Fancybro', 1763, 'king66gio', 1681, 'd4,d5,c4,e6,Bf4,Be7,Nf3,h6,e3,g5,Be5,f6,Bg3,h5,h3,Bd6,Bxd6,cxd6,cxd5,Ne7,dxe6,Bxe6,Nc3,a6,Qa4+,Bd7,Qb4,Bc6,Bd3,Bxf3,gxf3,Nbc6,Qxb7,Rb8,Qxa6,Nb4,Qa4+,Kf8,Kd2,Nxd3,Kxd3,Kg7,f4,Qc8,Rab1,Qf5+,Ke2,Kh6,fxg5+,fxg5,Qd1,Rhf8,Qg1,Nc6,Qg3,Rbe8,Kd2,h4,Qxd6+,Re6,Qc5,Qxf2+,Kd1,Rxe3,Qxc6+,Kh7,Qc4,Qf3+,Kc2,Qg2+,Kb3,Rb8+,Ka4', 'Qa8+,Qa6,Qxa6#', 'https://lichess.org/training/ejurA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJUsw', 'Classical', 'kvv77708', 1823, 'krishnashantu', 1779, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,Ng4,O-O,Ngxe5,Nxe5,Nxe5,Re1,d6,f4,Be7,fxe5,dxe5,Rxe5,O-O,Nd2,d3,Bxd3', 'Qd4+,Re3,Qxe3+', 'https://lichess.org/training/EJUsw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EJvJX', 'Rapid', 'momayaz3', 1767, 'vasbous', 1914, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Nxc6,bxc6,Bd3,Bb4,Bd2,Ne7,a3,Ba5,b4,Bb6,O-O,O-O,Na4,Ba7,c4,d6,b5,axb5,cxb5,Bd4,Rb1,cxb5,Bxb5,Bd7,Bxd7,Qxd7,Rb4,Nc6,Rxd4,Nxd4,Nb6,Qb5,Nxa8,Rxa8,Bb4,Ne2+,Kh1,d5,exd5,exd5,Re1,Re8,h3,g6,Qd2,d4,Rxe2,Qxe2,Qxd4,Qe1+', 'Bxe1', 'https://lichess.org/training/EJvJX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EjXkF', 'Rapid', 'DON-JAQUE', 1827, 'Debneil', 1752, 'd4,b6,Nf3,Bb7,Nbd2,e6,g3,c5,dxc5,Bxc5,Bg2,Nf6,O-O,O-O,a3,d5,b4,Bd6,Bb2,Nbd7,c4,Rc8,Rc1,dxc4,Nxc4,Bb8,Bxf6,Nxf6,Qxd8,Rfxd8,Ne3,g6,h4,h5,Rfd1,Rxd1+,Rxd1,Nd5,Ng5,Bxg3,Nxd5,Bxf2+,Kxf2,Bxd5,Bxd5,exd5,Rxd5,f6,Ne6,Rc3,a4,Rc4,Rd6,Rxb4,Nd8,Rf4+,Kg3,Rxa4,Rxf6,Kg7,Rf7+,Kg8,Rc7,b5,Ne6,b4,Rg7+,Kh8,Rxg6,b3,Nc5', 'b2,Nxa4,b1=Q', 'https://lichess.org/training/EjXkF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EjxYr', 'Rapid', 'furkanemrey', 1773, 'sipho1998', 1826, 'e4,e5,Nc3,Nf6,f4,d6,fxe5,dxe5,Nf3,Nbd7,Bc4,Be7,O-O,O-O,Kh1,a6,d4,exd4,Qxd4,b5,Bb3,Bc5,Qd1,Ng4,Qe1,Bb7,Bg5,Ndf6,h3,Nf2+,Rxf2,Bxf2,Qxf2,Qd6,Qh4,b4,Bf4,Qd8,Nd5,Nxd5,Bxd5,Bxd5,exd5,f6,Qg3,Qxd5,Bh6,Rf7,b3,Qh5,Bf4,Rd8,Re1,h6,Bxc7,Rc8,Ba5,Qxa5,Nh4,Qh5,Ng6,Rc3', 'Re8+,Rf8,Rxf8+,Kh7,Rh8#', 'https://lichess.org/training/EjxYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eJyfj', 'Bullet', 'amikha', 1711, 'accurateinaccuracy', 1797, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Nxf3,e6,Bc4,Bd6,O-O,Nc6,Bg5,O-O,Ne2,Be7,Nf4,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Nh7,Bh6,Re8,Qg4+,Bg5,Rae1,e5,Nh5,Bxg4', 'Bxf7+,Kh8,Bg7#', 'https://lichess.org/training/eJyfj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EjyhD', 'Blitz', 'FM kingnb', 2440, 'Joseraulcapablanca01', 1991, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,O-O,e4,d5,exd5,Nxd5,c4,h6,Bh4,Nf4,Bg3,Nh5,Nb3,Nxg3,hxg3,c5,Nxc5,e5,Nb3,exd4,Be2,Nc6,Qd2,a6,Rd1,Re8,Nfxd4,Nxd4,Nxd4,Bg4,f3,Qe7,Rh4,Bxd4,Rxg4,Be3,Qc2,Qb4+,Kf1,Re7,a3,Qc5,b4,Qh5,Rh4,Qe5,f4,Qf6,Bf3,g5,fxg5,Bxg5,Re4,Rae8,Rxe7,Rxe7,Kg1,Be3+,Kh2,Qg5,Rd5,Re5,Rxe5,Qxe5,Qe2,b6,Bd5', 'Bg1+,Kxg1,Qxe2', 'https://lichess.org/training/EjyhD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eJz8N', 'Rapid', 'wolo92', 1887, 'hizkia007', 1868, 'd4,d5,Bf4,Nc6,e3,e6,Nf3,Bd6,Bg3,Nf6,Ne5,Nxe5', 'dxe5,Be7,exf6', 'https://lichess.org/training/eJz8N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eJZMz', 'Classical', 'tardigardi', 2022, 'Burn_It_Down', 2169, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,O-O,h3,Na6,Be3,e5,d5,Nc5,Bc2,a5,Nge2,Ne8,Qd2,f5,Bxc5,dxc5,O-O-O,Nd6,b3,fxe4,Bxe4,Qh4,Qd3,Nxe4,Nxe4,Bh6+,Kb1,Rxf2,Nxf2', 'Bf5,g3,Bxd3+', 'https://lichess.org/training/eJZMz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EK1JI', 'Blitz', 'AgitP_kuningan', 2054, 'Rkapriaga', 2251, 'Nf3,Nf6,g3,d5,Bg2,c6,O-O,Bg4,b3,Nbd7,Bb2,e6,d3,Bd6,Nbd2,O-O,e4,dxe4,Nxe4,Nxe4,dxe4,Be5,Bxe5,Nxe5', 'Qxd8,Nxf3+,Bxf3,Raxd8,Bxg4', 'https://lichess.org/training/EK1JI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eK2x2', 'Classical', 'Mtl-CraftyKnight', 1947, 'Damscientist', 2004, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nf3,Nc6,d4,Nxc3,bxc3,e6,Bf4,Bd6,Bxd6,cxd6,Rb1,O-O,Qd2,Qc7,Bd3,Bd7,O-O,Rab8,Qg5,Qd8', 'Bxh7+,Kxh7,Qh5+,Kg8,Ng5,Qxg5,Qxg5', 'https://lichess.org/training/eK2x2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ek54V', 'Classical', 'DominikMelerowicz', 1996, 'CS_CLASSICAL', 1962, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Nf3,dxc4,Bxc4,Be7,O-O,O-O,Bf4,Nc6,h3,Na5,Bd3,Nd5,Bh2,Bf6,Re1,Nc6,Rc1,g6,Bb1,Bg7,Ne5,Qg5,Nxd5,exd5,Nxc6,bxc6,Rxc6,Bb7,Rc5,Rfe8,Rxe8+,Rxe8,Bg3,Qe7,f3,Qe3+,Kh2,Bxd4,Rc7,Bc8,b3,Be6,Qc1,Kg7,Bd6,Be5+,g3,Qxc1', 'Bxe5+,Kg8,Rxc1', 'https://lichess.org/training/ek54V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eK5ks', 'Classical', 'shadalbe', 1948, 'aliproisthechampion', 1904, 'e4,e6,d4,d5,Nd2,c5,exd5,Qxd5,Ngf3,cxd4,Bc4,Qd6,O-O,Nf6,Nb3,Nc6,Nbxd4,Nxd4,Nxd4,a6,Be3,Be7,Qf3,O-O,Rad1,Qc5,Bd3,Qc7,Bf4', 'e5,Bxe5,Qxe5', 'https://lichess.org/training/eK5ks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EK7WD', 'Classical', 'Chelem', 1619, 'neos01', 1645, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Nf6,Nc3,a6,Bxc6+,bxc6,d4,exd4,Qxd4,c5,Qd1,Be7,Nd5,Nxd5,exd5,c4,O-O,Bb7,Re1,O-O,c3,c6,dxc6,Bxc6,b3,cxb3,axb3,Bf6,Bb2,Re8,Ra2,Rb8,Rxa6,Bxf3,gxf3,Rxe1+,Qxe1,Rxb3,Ba3,Bxc3,Qd1,Qg5+,Kh1,Rb8,Rxd6,g6,Bc1,Qf5,Rd8+,Rxd8,Qxd8+,Kg7,Qh4', 'Qxf3+,Kh2,Be5+,Kg1,Qd1+,Kg2,Qxc1', 'https://lichess.org/training/EK7WD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eK813', 'Rapid', 'KhaledSalahH', 1646, 'tHeWolF_64_19', 1777, 'e4,h5,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Qe2+,Qe7,Qxe7+,Bxe7,Be3,Bf5,O-O-O,Nd7,Bb5,O-O-O,Rhe1,c6,Bc4,Bg6,Bf4,Rhe8,Be3,Nb6,Bb3,Nd5,Bd2,Bd6,h3,Nf4,Bxf4,Bxf4+,Kb1,Kd7,a3,Rxe1,Nxe1,Re8,d5,c5,Ba4+,Kd8,Bxe8,Kxe8,g3,Bd6,Nd3,Bf5,Re1+,Kd7,h4,c4,Nb4,a5,Na2,Bc5,f3,Bf2,Re2,Bxg3,Rg2,Bxh4,Rxg7,Bg6,Nc3,Ke7,Ne2', 'Kf8,Rxg6,fxg6', 'https://lichess.org/training/eK813');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ek9ok', 'Rapid', 'sar7an', 1917, 'Harsh1812', 1841, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Bg5,O-O,Nc3,Be7,h3,h6,Bh4,a6,a3,b5,Bb3,d6,O-O,Be6,Bg3,Nd4,Nxd4,exd4,Nd5,Bxd5,exd5,Rc8,Qd2,c5,dxc6,Rxc6,Rae1,Qd7,Re2,Nh5,Bh2,Bg5,f4,Bh4,Rf3,Re8,Bd5,Rxe2,Qxe2,Rc8,g4,Re8,Qd2,Nf6,Bb3,Qe7,Bg3,Ne4,dxe4,Qxe4,Qf2,Bxg3,Qxg3,Qe2,Qf2', 'Qd1+,Kg2,Re2', 'https://lichess.org/training/Ek9ok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ek9ZC', 'Blitz', 'Ayostin', 1969, 'bobdhoedt', 1904, 'Nf3,d5,d4,Nf6,g3,Bg4,Bg2,e6,a3,c5,c3,Be7,O-O,O-O,b4,cxd4,cxd4,a6,Bb2,Nc6,Nc3,Rc8,Qa4,Bxf3,exf3,Nxd4,Rfd1,Nf5,f4,Qd7,Qb3,Rc4,Rac1,Nd4,Qa2,Rfc8,Re1,Nb5,Nxb5,Qxb5,Bf1,Rxc1,Bxb5,Rxe1+,Kg2,axb5,Bd4,Rec1,a4,R1c2,Qb3,bxa4,Qxa4,R2c4,Qa7,Bxb4,Qxb7,Bc3,Bxf6,Bxf6,h4,Bd4,Qd7,Rc2,Kh3,Bxf2,f5,R2c3,fxe6,Rxg3+,Kh2,Rgc3,exf7+,Kh8', 'Qe8+,Rxe8,fxe8=Q#', 'https://lichess.org/training/ek9ZC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EkA0A', 'Rapid', 'Zugzwang120794', 1643, 'robert-axm', 1699, 'd4,c6,c4,d5,cxd5,cxd5,Nf3,Bg4,Nc3,e6,e4,dxe4,Nxe4,Nf6,Bb5+,Nc6,Bg5,Qa5+,Nc3,Be7,h3,Bh5,g4,Bg6,Ne5,O-O,Bxc6,bxc6,Nxc6,Qxg5,Nxe7+,Kh8,Qf3,Nd5,Nexd5,exd5,Qxd5,Rfe8+,Kf1,Qf4,Kg2,Rac8,Rae1,Red8,Qf3,Qxd4,Rd1,Qb6,Rhe1,Qxb2,Nd5,Bc2,Rc1,Qxa2,Qxf7,Bb3,Rxc8,Bxd5+,Kg1,Bxf7,Rxd8+,Bg8,Ree8,h6,Rxg8+', 'Qxg8,Rxg8+,Kxg8', 'https://lichess.org/training/EkA0A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ekAbE', 'Rapid', 'dhiman', 2173, 'JJ1310', 2081, 'e4,e5,Nf3,d6,Bc4,Be7,d4,Nc6,O-O,Nf6,d5,Nb8,Re1,O-O,h3,c6,Bf1,cxd5,exd5,Nbd7,c4,b6,Nc3,Bb7,b3,h6,Ba3,a6,g3,Rc8,Rc1,Nh7,Ne4,Ndf6,Nxf6+,Nxf6,Nh4,Re8,Nf5,Bf8,g4,g6,Ng3,b5,Rc3,Bxd5,Rd3,Be6,Bxd6,Bxd6,Rxd6,Qa5,Rxe5,Qxa2,Qf3,Kg7,cxb5,axb5,Rxb5,Rc1,Rb7,Qa1,Qf4,g5,Qf3,Rc3,Nf5+,Bxf5,Qxf5,Rc1,Qxf6+,Qxf6,Rxf6,Kxf6,Kg2,Ree1,Bc4,Rc3,Rb6+,Ke5,Rxh6,Rec1,Rh7,f6,Re7+,Kd6,Rf7,Ke5,Rd7,Re1', 'Re7+,Kd6,Rxe1', 'https://lichess.org/training/ekAbE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EkavN', 'Blitz', 'Acceptable', 1603, 'Z_10', 1546, 'e4,e5,Nf3,d6,h3,f5,exf5,Bxf5,Nc3,Nf6,d4,Nc6,Be3,Nb4,Bd3,e4,Bxe4,Nxe4,Qe2,Nxc3,bxc3,Nxc2+,Kf1,Nxa1,Qb2,Nc2,Qxb7,Nxe3+,Ke2,Nxg2,Qc6+,Bd7,Qe4+,Be7,Ng5,h6', 'Qg6+,Kf8,Qf7#', 'https://lichess.org/training/EkavN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ekaXW', 'Rapid', 'yracezor', 1989, 'kian55', 1866, 'e4,c6,f4,d5,e5,Bf5,Nf3,e6,a3,Nd7,c3,Bc5,b4,Bb6,a4,a6,d4,a5,Ba3,axb4,Bxb4,Rc8,a5,Ba7,a6,b6,Bd6,c5,Bb5,cxd4,Nxd4,Be4,O-O,Ne7,Bxe7,Qxe7,Nc6,Rxc6,Bxc6,O-O,Nd2', 'Qc5+,Kh1,Qxc6,Nxe4,dxe4', 'https://lichess.org/training/ekaXW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EKDVL', 'Blitz', 'Ronito13', 1876, 'emadfrjsltan982', 1886, 'd4,d5,Nf3,Nf6,e3,e6,b3,b6,Bb2,Bb7,Nbd2,Nbd7,Bd3,c5,O-O,Bd6,Ne5,O-O,f4,Ne4,Rf3,f6,Nxd7,Qxd7,Rh3,Qf7,dxc5,Bxc5,Bd4,Rac8,Nf3,Bxd4,Nxd4,Rfe8,Qe1,h6,g4,Qg6,Qh4,Re7,Rf1,Qf7,g5,fxg5,fxg5,Qg6,Rf4,Qxg5+,Qxg5,Nxg5,Rg3,Rf8,Rfg4,Bc8,Rh4,Ref7,Nc6,a5,Ne5,Rf2,h3,R2f6,Rhg4,Nf3+,Nxf3,Rxf3', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/EKDVL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ekfIE', 'Classical', 'FM bahamapapa', 2126, 'dr_E', 2199, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Nf3,Nc6,O-O,Be7,Re1,Nb6,Bb5,f6,Nxe5,fxe5,Qh5+,Kf8,Bxc6,bxc6,Qxe5,Bd6,Qc3,Bd7,Bh6,Rg8,Bd2,Qf6,d4,Nd5,Qc4,Qf7,Nc3,Nxc3,Qxc3,Qh5,h3,Re8,Re3,Rxe3,Qxe3,Kf7,Re1,Re8,Qb3+,Qd5,c4,Rxe1+,Bxe1,Qe6,Bd2,c5,d5,Qf5,Qd1,g6,Bc3,Be5,Bxe5,Qxe5,Qf3+,Qf5,Qb3,Qe5,Qf3+,Kg7,b3,Bf5,a4,Be4,Qe2,Qd4,Kh2,Kf6,f3,Bf5,g3,Qe5,Qf2,Bd3,Qxc5,Qe2+,Kg1,Qxf3', 'Qf8+,Ke5,Qxf3', 'https://lichess.org/training/ekfIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EkFYA', 'Rapid', 'bilalchentouf', 1849, 'NusreT5', 1723, 'e4,e5,Nf3,d6,Nc3,a6,d4,Qe7,dxe5,dxe5,Nd5,Qd8,Nxe5,Be6,Qe2,Nf6,Bg5,Be7,Nxf6+,gxf6,Nxf7,Bxf7,Bf4,Bd6,Bxd6,Qxd6,Rd1,Qb4+,c3,Qa5,Qd3,Nc6,Qd7+,Kf8,a3,Kg7,Qg4+,Kf8,Be2,Rg8,Qf4,Qe5,Qh6+,Rg7,O-O,Qxe4,Bf3,Qg6,Qd2,Ne5,Bxb7,Rb8,Bd5,Bxd5,Qxd5,c6,Qc5+,Kg8,g3,Kh8,b4,Qh6,f3,Qh5,Qd6,Rbg8,Qxf6,Ng6,Rd7,Nf8', 'Rxg7,Rxg7,Qxf8+', 'https://lichess.org/training/EkFYA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eKhZw', 'Rapid', 'jatekos', 2163, 'khardali', 2278, 'Nf3,c5,e3,Nc6,Be2,Nf6,O-O,g6,b3,Bg7,Bb2,O-O,c4,d5,cxd5,Qxd5,Nc3,Qd8,Rc1,Bf5,Nh4,Bd3,g3,b6,Ng2,Nb4,Nf4,Bxe2,Qxe2,e5,Ng2,Nd3,Rc2,Nxb2,Rxb2,Qd7,Rc2,Rad8,Rd1,Qh3,f3,Rfe8,d3,Bh6,Ne4,Nd5,a3,Kh8,Nc3,f5,f4,exf4,Nxd5,fxg3,Ngf4,Bxf4,Nxf4,gxh2+,Kh1,Qg3,Qxh2', 'Qf3+,Rg2,Qxd1+,Rg1,Qf3+', 'https://lichess.org/training/eKhZw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EKIvT', 'Classical', 'elchin7761', 1903, 'nykaplan', 1919, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,Nb5,Bxe3,fxe3,Qe5,Qd5,Kd8,Qxf7,Nh6,Qf4,Qxb2,N1c3,Qxa1+,Kd2,d6,Qg5+,Ne7,Qxg7,Rg8,Qxh6,a6,Nd4,Bd7,Ne6+,Bxe6,Qxe6,Rf8,Bb5,Qxc3+,Kxc3,axb5,Rd1,Ra6,e5,d5,Qh3,Rg6,Qxh7,Rxg2,Qh4,c6,Rd2,Rg6,Rf2,Rxf2,Qxf2,Kd7,Qf7,Re6,Kd4,b6,h4,c5+,Kd3,Rxe5,h5,Rf5,Qh7,c4+,Ke2,Ke6,h6,Rf7,Qh8,Nf5,h7,Ng3+,Kd2,Ne4+,Kc1,Rf1+,Kb2,c3+,Ka3,Rb1,Qc8+,Kd6,Qb8+,Kc6,Qa8+,Kd6,Qd8+,Kc6,h8=Q', 'b4+,Ka4,Nc5#', 'https://lichess.org/training/EKIvT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EkjC8', 'Rapid', 'masadi1363', 2010, 'novicepatzer', 1999, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,c6,Nf3,Nbd7,Qc2,O-O,e4,dxe4,Nxe4,Nxe4,Bxe7,Qxe7,Qxe4,Qb4+,Nd2,Qxb2,Rb1,Qxa2,Bd3,Nf6,Qh4,Qa3,Qh3,e5', 'Bxh7+,Nxh7,Qxa3', 'https://lichess.org/training/EkjC8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EKJoH', 'Rapid', 'zeevG', 2321, 'ujjwaldeepgupta', 2095, 'e4,e6,d4,d5,Nc3,Nf6,exd5,exd5,Bd3,Bd6,Bg5,c6,Qe2+,Be6,f4,O-O,f5,Bxf5,Bxf5,Re8,Bxf6,Rxe2+,Ngxe2,Qxf6,O-O,Qh6,g3,Na6,a3,Re8,Rf3,g6,Bd3,Nc7,Raf1,f5,Kg2,Re3,Rxe3,Qxe3,Rf3,Qh6,h4,Ne8,Nf4,Bxf4,Rxf4,Nf6,Ne2,Nh5,Rf3,Qd2,Kf2,b6,b3,c5,dxc5,bxc5,a4,Kg7,Re3,Kf7,Re5,d4,Rxc5,Qe3+,Kg2,f4,gxf4,Nxf4+,Nxf4,Qxf4,h5,Qg4+,Kf2,Qf4+,Ke2,gxh5', 'Rf5+,Qxf5,Bxf5', 'https://lichess.org/training/EKJoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ekJxi', 'Blitz', 'RedBed', 1735, 'javad63', 1711, 'd4,d5,c4,dxc4,Nc3,e6,Nf3,Nf6,Bg5,Nbd7,e3,Bb4,Bxc4,Bxc3+,bxc3,O-O,O-O,c6,Qd3,b5,Bb3,Qe8,Bc2,a5,Ne5,g6,Nf3,Ba6,h4,b4,c4,Qc8,Rfc1,Nh5,g4,Ng7,h5,Nb6,hxg6,fxg6,Ne5,Qc7,a3,Ne8,Bh6,Rf6,g5,Rf7,Nxf7,Qxf7,axb4,Bxc4,Qe4,Bd5,Qf4,Qxf4,exf4,a4,Bd1,Nc7,Kh2,Nb5,Kg3,Nxd4,f5,exf5,f4,Ra7,Kf2,Ra8,Ke3,Ne6,Bf3,Nc4+,Kf2,Bxf3,Kxf3,Nd4+,Kg3,Nb3,Rxc4,Nxa1,Rxc6,a3,Rc7,a2,Rg7+,Kh8,b5,Nc2,b6,a1=Q,b7,Qa3+,Kh4,Rb8,Rc7,Qb2', 'Rc8+,Rxc8,bxc8=Q#', 'https://lichess.org/training/ekJxi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ekjz5', 'Blitz', 'Alekhine91', 1657, 'CLE9595', 1633, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,c3,h6,Be3,c6,Qd2,Nbd7,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/Ekjz5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ekKjo', 'Rapid', 'Wissamramadan', 1915, 'SORTUDO', 1856, 'e4,e5,Nf3,d6,c3,Nf6,d4,exd4,cxd4,Bg4,Bd3,Be7,O-O,O-O,Bf4,Nc6,d5,Ne5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,c6,Nc3,c5,Rfe1,Nd7,Qg3,Ne5,Bxe5,dxe5,Qxe5,a6,Rad1,b5,d6,Bf6,Qxc5,Rc8,Qb4,Rc4,Qb3,Be5,Rd5,f6,a4,Qb8,axb5,axb5,Rxb5,Qc8,Nd5,Rc1,Rf1,Rxf1+,Kxf1,Qc1+,Ke2,Kh8,d7,Rd8,Rb8,Rxb8', 'Qxb8+,Bxb8,d8=Q#', 'https://lichess.org/training/ekKjo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EKkwJ', 'Rapid', 'Gary1002', 1976, 'K-vent', 1986, 'd4,Nf6,Nf3,b6,Bf4,Bb7,e3,g6,Be2,Bg7,O-O,d6,h3,O-O,Bh2,c5,c3,Ne4,Nbd2,Nd7,Rc1,Ndf6,Re1,Qd7,Nxe4,Nxe4,Nd2,Rad8,Qc2,Qf5,f3,Nxd2,Qxd2,Bh6,Bd3,Qf6,Qf2,e5,Rcd1,Bg7,Bc4,e4,Be2,Rfe8,Bg3,Bh6,f4,Qe6,Bf1,cxd4,cxd4,Rc8,b3,Rc7,Rc1,Rec8,Qd2,Bf8,Bc4,Qf5,Be2,a5', 'Bg4,Qd5,Bxc8', 'https://lichess.org/training/EKkwJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eKLPm', 'Rapid', 'Cheatonoff', 2058, 'Abou-al-Valid', 2101, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,a6,Bc4,e6,Nf3,b5,Bb3,Bb7,Qe2,Nc6,O-O,Qc7,Nd5,exd5,exd5+,Nce7,Ng5,d6,Bf4,Nf6,Rac1,Qd7,Rfd1,g6,Ne6,Rc8,Bg5,Rxc1,Rxc1,Nfxd5,Bxd5,fxe6,Bxe6,Qd8,Bf6,Bh6,Re1,Kf8,Bxh8,Bg7,Bxg7+,Kxg7,Bb3,Nf5,Qe6,Qf8,a4,Bc8,Qd5,b4,a5,h6,g4,Nh4,Qd4+,Kh7,Qa7+,Kh8,Re7,Nf3+,Kh1,Ng5,h4,Qf3+,Kh2', 'Qh3+,Kg1,Nf3#', 'https://lichess.org/training/eKLPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EKlrk', 'Rapid', 'khaledezat007', 1718, 'Juan-Angel', 1731, 'd4,Nf6,c4,d5,c5,g6,e3,Bg7,h3,O-O,Nc3,c6,Bd3,b6,b4,bxc5,bxc5,Ba6,Bb1,Bc4,g4,Qa5,Bd2,Qc7,Qc2,Na6,g5,Nb4,Qc1,Ne4,Nxe4,dxe4,Qxc4,Nd3+,Bxd3,exd3,Qxd3,Rab8,e4,Rb2,e5,Rfb8,Ne2,Bxe5,dxe5,Qxe5,Bf4,Rxe2+,Qxe2', 'Qxa1+,Qd1,Rb1', 'https://lichess.org/training/EKlrk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ekLTy', 'Rapid', 'cucchi98', 1655, 'praleks', 1662, 'b3,c5,Bb2,e6,g3,a6,Bg2,Qc7,e3,Nc6,Ne2,Nf6,Bxf6,gxf6,Nbc3,h5,Ne4,Bg7,N2c3,Ne5,f4,Ng6,Qe2,d5,Nf2,b5,O-O,h4,e4,hxg3,hxg3,d4,e5,Bb7,Nce4,fxe5,fxe5,Bxe5,Nxc5,Bxg2,Nxe6,fxe6,Kxg2,O-O-O,Nd3,Qc6+,Rf3,Bc7,Nb4,Qb7,Qxe6+,Kb8', 'Nc6+,Ka8,Nxd8,Nh4+,gxh4', 'https://lichess.org/training/ekLTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eKmvZ', 'Rapid', 'MrDagBer', 1948, 'iVanBuuren', 1993, 'e4,e5,Nf3,c6,Nc3,Nf6,Bc4,d5,exd5,cxd5,Bb5+,Nbd7,Nxe5,d4,Ne2,Bc5,d3', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/eKmvZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eknqq', 'Rapid', 'ingustchess', 1856, 'Celso23', 1729, 'e4,e5,Nf3,d6,d4,f6,Bc4,Bg4,Be3,Qe7,h3,Bxf3,Qxf3,h5,Qf5,Nd7,Qg6+,Kd8,Nc3,c6,d5,Nb6,Bb3,Qd7,dxc6,bxc6,Qf7,Qxf7,Bxf7,Ne7,O-O-O,Nec8,Be6,Kc7,f4,Be7,f5,a6,g4,h4,Rhg1,Na7,g5,Nb5,Bxb6+,Kxb6,Na4+,Kc7,c4,Nd4,gxf6,Bxf6,c5,Ne2+,Kc2,Nxg1,cxd6+,Kd8,Rxg1,Rb8,Nc5,a5,Nd7,Rb4,Nxf6,gxf6,Rg7,Rf8,Rd7+,Ke8,Rc7,Rb8,Rxc6,Kd8,Rc7,Rh8,Rd7+,Ke8,Re7+,Kf8,Bd7,Rd8,Be6,Rxd6,Rf7+,Ke8,Rxf6,Kd8,Rf7,Ke8,Ra7,Rd8,Rxa5,Ke7,Rxe5,Kf6,Rd5,Rxd5,exd5,Rd8,a4,Ke5,a5,Kf6,a6,Ra8,d6,Rxa6,d7,Ra8,b4,Rb8,b5,Ke7,b6,Rxb6', 'f6+,Kd8,f7', 'https://lichess.org/training/eknqq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eKO2Q', 'Rapid', 'fikpatt', 1604, 'karagog', 1799, 'd4,d5,c4,c6,cxd5,cxd5,Nf3,e6,Nc3,Bb4,Bf4,Nf6,Rc1,Nc6,e3,a6,Bd3,Nh5,Bg5,f6,Bh4,g5,Bg3,Nxg3,fxg3,g4,Nd2,f5,Nb3,Qg5,Qe2,Bd7,O-O,O-O-O,Na4,Kb8,Nb6,Ka7,Nxd7,Rxd7,Kh1,h5,Rc2,Bd6,Nc5,Re7,Bxa6,b6,Bb7,Nb4,Rc3,bxc5,Ra3+,Kxb7', 'Qb5+,Kc8,Ra8+', 'https://lichess.org/training/eKO2Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eKohI', 'Blitz', 'praslea', 1980, 'iranchess2019', 2032, 'e4,c5,c3,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bb5,Bg4,Nbd2,Qb6,Qa4,Ne7,Ne5,Rc8,Nxg4,a6,Bxc6+,Nxc6,Ne5,Bd6,Nxc6,bxc6,O-O,O-O,c4,Bb8,dxc5,Qc7,g3,h5,cxd5,cxd5,b4,h4,Qxa6,hxg3,fxg3,Rfe8,Nf3,Re6,Bf4,Rxa6,Bxc7,Bxc7,b5,Ra3,b6,Bb8,Nd4,Rxc5,Rfe1,Kh7,Re8,Bd6,b7,Rc4,Nf5,Bc5+,Kg2,Rc2+,Kh3,Ba7,b8=Q,Bxb8,Rxb8,g6,Ne7,f5,Nxd5,Rd2,Rb7+,Kh6,Nf6,g5,Ng8+,Kg6,Ne7+', 'Kh5,Rb4,g4+,Rxg4,fxg4#', 'https://lichess.org/training/eKohI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eKPAY', 'Classical', 'asamioo', 1715, 'Bloodwave', 1651, 'e3,d5,Qf3,Nf6,Nh3,Bg4,Qg3,e6,b3,Bd6,f4,O-O,Bb2,Bf5,d3,Nh5,Qf3,Nf6,Ng5,Qe7,e4,dxe4,dxe4,Bg4,Qg3,Bb4+,c3,Bc5,e5,Rd8,exf6', 'Rd1#', 'https://lichess.org/training/eKPAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ekqcN', 'Rapid', 'snow65', 2256, 'FruitSalad', 2217, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,fxe4,dxe4,Nf6,Nc3,Bb4,O-O,Bxc3,bxc3,Nxe4,Qe1,Nd6,Nxe5,O-O,Bxc6,dxc6,f4,Bf5,Rf2,Re8,Re2,Re7,Ba3,Qe8,Qf2,Re6,Rae1,h5,h3,Rd8,g4,hxg4,hxg4,Bh7,f5,Rf6,Ng6,Qf7,Re7,Qc4,Bxd6,Bxg6,Bxc7,Qxg4+,Qg2,Qxg2+,Kxg2,Rd2+,Kg3,Rxf5,Bf4,Rxc2,Rxb7,Rxc3+,Kg4,Rc4,Rf1,Ra5,Rb8+,Kf7,Rf2,Bf5+,Kg3,Ra3+,Kh4,g6,Kg5,Rh3,Rb7+,Kg8,Rd2,Rd3,Rb8+,Kf7,Rh2,Ke6,Rhh8,Kd5,Rhd8+,Ke4,Rxd3,Kxd3,Rb7,Ra4,Rb2,Kc3,Rh2,Rb4', 'Bd2+,Kd3,Bxb4', 'https://lichess.org/training/ekqcN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eKrxa', 'Blitz', 'ChristophCV', 1989, 'FM Matesote', 2208, 'd4,d5,Nf3,Nf6,e3,c5,c4,e6,Nc3,Nc6,dxc5,Bxc5,cxd5,exd5,Be2,O-O,O-O,Re8,a3,a6,b4,Bd6,Bb2,Bg4,g3,Bh3,Re1,Bc7,Ng5,Bf5,Nf3,h6,Nd4,Nxd4,Qxd4,Rc8,Rad1,Be5,Qd2,Qd6,Bf3,Red8,Bg2,Qb8,Na4,Ne4,Qe2,Nf6,Bxe5,Qxe5,Nc5,Rc7,Nd3,Qd6,Nf4,Rc2,Rd2,Rxd2,Qxd2,d4,exd4,Qxd4,Qxd4,Rxd4,Bxb7,Rd3,Re3,Rd1+,Kg2,Ra1,Nd5', 'Be4+,Rxe4,Nxe4', 'https://lichess.org/training/eKrxa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EkUeR', 'Rapid', 'Max_Queyrel', 1840, 'ifekali', 1672, 'Nf3,d6,d4,Nf6,c4,g6,g3,Bg7,Bg2,O-O,O-O,c6,Nc3,Bf5,Qb3,b6,Bg5,Nbd7,Nh4,h6,Bxf6,Bxf6,Nxf5,gxf5,Bxc6,Rc8,Bxd7,Qxd7,Rfd1,e5,d5,f4,Ne4,Qf5,Nxd6,Qg5,Nxc8,Rxc8,e3,fxg3,fxg3,h5,e4,h4,Rac1,Kh7,Kh1,Qg6,Rg1', 'Qxe4+,Rg2,h3,Qc2,hxg2+', 'https://lichess.org/training/EkUeR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ekVGa', 'Rapid', 'Profitz', 1968, 'ehteshami', 1962, 'e4,c5,Ne2,e6,Ng3,a6,a4,d6,Bc4,Qc7,O-O,Be7,c3,b6,d3,Bb7,f4,Nd7,f5,exf5,Nxf5,Bf6,Bf4,Ne5,Nd2,g6,Nh6,Nxh6,Bxh6,Nxc4,Nxc4,Be5,Qf3,f5,Nxe5,dxe5,b4,O-O-O,Qh3,Qd6,exf5,gxf5,Qxf5+,Kb8,Bg7,Rhg8,Qxh7,Ka7,g3,Qd7,bxc5,Rxg7,cxb6+,Ka8,Qh6,Rh7,Qe3,Qxd3', 'Qxd3,Rxd3,Rf8+,Bc8,Rxc8+', 'https://lichess.org/training/ekVGa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EKVjf', 'Blitz', 'kemalozmenchess', 1784, 'neoaulug', 1775, 'e4,c5,Nc3,e6,g3,Nc6,Bg2,g6,d3,Bg7,Nge2,Nge7,h4,O-O,h5,Bxc3+,bxc3,d5,Nf4,dxe4,Bxe4,Nd5,hxg6,fxg6,Qg4,e5,Ne6,Qf6,Qh3', 'Qxf2+,Kd1,Nxc3#', 'https://lichess.org/training/EKVjf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EKW2E', 'Blitz', 'smellysam', 1806, 'Crumples', 1771, 'd4,f5,Bf4,d6,e3,g6,c3,Nh6,Bd3,Nf7,Nf3,h6,Nbd2,Bg7,h4,O-O,Qb3,e6,O-O-O,Qe7,Rdg1,e5,dxe5,dxe5,Bg5,hxg5,Nxg5,Nc6,g4,e4,Bc4,Na5,Bxf7+,Rxf7,Qb5,Nc6,Nxf7,Qxf7,gxf5,Bxf5,Kb1,Rd8,Nb3,Ne5,h5,Nf3,hxg6,Bxg6,Rg3,Nd2+,Nxd2,Rxd2,Qxb7,Qxf2,Rxg6,Qxe3,Rhg1', 'Qd3+,Ka1,Rd1+,Rxd1,Qxd1#', 'https://lichess.org/training/EKW2E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eKWMW', 'Bullet', 'IM HelgeA', 2341, 'WFM Tanaz_Azali', 2266, 'c4,Nf6,d4,e6,Nf3,d5,Nc3,Bb4,cxd5,exd5,Bg5,h6,e3,hxg5,Nxg5,c5,Bd3,Qa5,O-O,cxd4,exd4,O-O,Qf3,Bg4,Qg3,Nc6,Qh4,Rfd8,Bh7+,Kf8,Rfe1,Nxd4,Bf5,Nxf5', 'Qh8+,Ng8,Nh7#', 'https://lichess.org/training/eKWMW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EkXgk', 'Blitz', 'Chuyxd8', 1784, 'blopa2', 1809, 'd4,d5,c4,Nf6,Nc3,e6,cxd5,Nxd5,Nf3,Bb4,Qc2,O-O,e4,Nxc3,bxc3,Ba5,Bb5,c6,Bd3,b5,O-O,Nd7,e5,c5,Bxh7+,Kh8,Ng5,g6,Qd3,Kg7,Qh3,Rh8,Nxe6+,fxe6,Qh6+,Kf7,Bg5,Qf8', 'Qxg6#', 'https://lichess.org/training/EkXgk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ekZ7l', 'Classical', 'stillnogood', 1734, 'oldone', 1610, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,Qf3,Nd4,Qd1,d6,h3,h6,Nf3,Re8,c3,Nc6,O-O,Be6,Bb3,d5,d4,exd4,e5,Nxe5,Nxe5,dxc3,Nxc3,d4,Ne2', 'Bxb3,axb3,Rxe5', 'https://lichess.org/training/ekZ7l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ekzbw', 'Blitz', 'Cuidadinspin', 1782, 'FODonovan', 1826, 'd4,d5,Bf4,Nf6,Nf3,c5,e3,Qb6,b3,Bg4,Nbd2,e6,Bd3,Nc6,O-O,cxd4,h3,Bh5,g4,Bg6,Bxg6,hxg6,Kg2,dxe3,Bxe3,Qc7,Qe2,Bd6,c4,dxc4,Nxc4,O-O,Rfd1,Rfd8,Nxd6,Rxd6,Bf4,Rxd1,Bxc7,Rxa1,Ne5,Nxe5,Bxe5,Rc1,Bb2,Rc6,Qe5,Ne8,h4,Rac8,h5,Rc5,Qd4,gxh5,gxh5,Rxh5,Qd7,Rhc5,Bd4,R5c7,Qa4,a6,Be3,Nf6,Qh4,Nd5,Bd4,Rc2,Qg3,f6,Qg4,Kf7,Qh5+,Ke7,Qg6,Rxa2,Qxg7+,Kd6,b4,Rc7,Bc5+,Ke5,Qg3+,Kf5,Qf3+,Kg6,Qg4+,Kf7,Qh5+,Kg7,Qg4+,Kf7,Qh5+,Kg7,Qg4+,Kh6,Qxe6,Rd2', 'Be3+,Nxe3+,Qxe3+,Kh7,Qxd2', 'https://lichess.org/training/Ekzbw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('el0RJ', 'Rapid', 'StetsSochi', 1733, 'sunilmeena', 2028, 'e4,c5,Nf3,e6,Bc4,Nc6,c3,d5,exd5,exd5,Bb5,Bd7,d4,a6,Bxc6,bxc6,O-O,Be7,Re1,Nf6,Ne5,cxd4,Qxd4,O-O,Bf4,c5,Qd1,Bf5', 'Nc6,Qd7,Nxe7+', 'https://lichess.org/training/el0RJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('el0wH', 'Rapid', 'changeyourself', 1667, 'sveinb', 1703, 'e4,e5,Nc3,g6,Nf3,d6,Be2,Bg7,O-O,Nf6,Re1,O-O,d3,a6,Bg5,Nbd7,Qd2,Qe8,Bh6,Ng4,Bxg7,Kxg7,Ng5,Nc5,Nd5,Nh6,Nxc7,Qe7,Nxa8,Qd8,b4,Ne6,Nxe6+,Bxe6,f4,Qxa8,fxe5,dxe5,Rf1,Qa7+,Kh1,Qd4,c3,Qd7,Qg5,f6,Qe3,Bg4,Rae1,Bxe2,Rxe2,Ng4,Qh3,h5,Rf3,Qa4,g3,Qd1+,Qf1,Qa4,h3,Nh6,Ref2,Ng8,g4,hxg4,hxg4,Qc6,Rc2,Ne7,g5,f5,exf5,Rh8+,Kg2,Nxf5,Kf2', 'Rh2+,Kg1,Rxc2', 'https://lichess.org/training/el0wH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('el4JM', 'Rapid', 'luckopat', 1965, 'liberalsosyalist', 1847, 'c4,e6,Nc3,d6,g3,g6,Bg2,Bg7,Rb1,Ne7,d3,O-O,Bd2,Nd7,b4,Nf6,a4,a5,b5,d5,cxd5,exd5,Nh3,Bxh3,Bxh3,d4,Na2', 'Qd5,O-O,Qxa2', 'https://lichess.org/training/el4JM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('El5hI', 'Rapid', 'misterx1', 1883, 'WingsForMarie', 2017, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,Ngf6,Bf4,e6,O-O-O,Be7,Ne4,Nxe4,Qxe4,Nf6,Qe2,Bd6,Ne5,Qc7,Kb1,O-O,g4,Nd5,Bd2,c5,Nf3,Bf4,g5,Bxd2,Qxd2,Qf4,Qxf4,Nxf4,gxh6,gxh6,dxc5,a5,Rd4,Nd5,Rg4+,Kh7,Ne5,f5,Rg6,Nf4,Rg3,Rac8,Nd3,Nxd3,Rxd3,Rf7,Rd6,Re7,Re1,e5,Rd5,Rce8,c3,f4,Kc2,e4,b4,axb4,cxb4,e3,fxe3,Rxe3,Rxe3,Rxe3,Rd7+,Kg8,Rd4,f3,Rf4,Re2+,Kb3,f2,a4,Re3+,Kc4', 'Re4+,Rxe4,f1=Q+', 'https://lichess.org/training/El5hI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ElbLq', 'Rapid', 'SkinnyFat', 1705, 'laminebou', 1673, 'Nf3,d5,c4,c6,cxd5,cxd5,g3,Nf6,Bg2,e6,O-O,Bc5,d4,Bb6,a4,a5,Nc3,O-O,Qb3,Nbd7,Ne5,Bxd4,Nxd7,Qxd7,Bf4,Bxc3,bxc3,Qc6,c4,Qxc4,Qxc4,dxc4,Rac1,Re8,Rxc4,e5,Be3,e4,Rfc1,Bd7,Bg5,Bc6,Bxf6,gxf6,Rd4,Kg7,Rcc4,b5,axb5,Bxb5,Rc5,Rad8', 'Rxd8,Rxd8,Rxb5', 'https://lichess.org/training/ElbLq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ELbTu', 'Rapid', 'timi07', 1978, 'tommy2017', 2044, 'e4,e5,Nf3,Nc6,Bc4,Bc5,a3,Nf6,d3,d5,exd5,Nxd5,O-O,O-O,h3,Kh8,Re1,f6,b4,Bb6,Bb2,Nf4,Nbd2,Bxh3,gxh3,Nxh3+,Kg2,Nxf2,Qe2,Qd7,Rh1', 'Qg4+,Kf1,Nxh1', 'https://lichess.org/training/ELbTu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ElCF8', 'Classical', 'Salty_Fat_Slob', 1791, 'TransposeBeforeHoes', 1707, 'd4,Nf6,h3,d5,Bf4,e6,Nf3,c5,e3,Nc6,c3,Bd6,Bxd6,Qxd6,Bd3,O-O,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,Qc2,b6,Nd2,Re8,Nf3,Qd6,Rfd1,Bb7,Be2,h6,Nh2,Ne4,Bf3,Ng5,Qe2,Nxf3+,Qxf3,Qe7,Qg3,Rad8,Ng4,Qe6,Rd2,Rd6,Rad1,h5,Nh2,Red8,Nf3,d4,cxd4,cxd4,Rxd4,Bxf3', 'Rxd6,Rxd6,Rxd6', 'https://lichess.org/training/ElCF8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eLCl8', 'Rapid', 'boonedoggle', 1916, 'KuroEinzbern', 1853, 'e4,d5,exd5,Nf6,Nf3,Bg4,h3,Bh5,Nc3,Nxd5,Be2,Nf4,O-O,Nxe2+,Qxe2,Nc6,Qe3,f6,a3,g5,Rd1,Qd7,Nb5,O-O-O,Nxa7+,Kb8,Nxc6+,Qxc6,c3,g4,hxg4,Bxg4,Re1,Rg8,Kf1,Qc4+,Qe2,Rd3,Qe4,Rd4+,Qe2,Rd3,Qe4,Rd4+,Qe2,Bxf3,Qxc4', 'Bxg2+,Ke2,Rxc4', 'https://lichess.org/training/eLCl8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ElDRr', 'Rapid', 'officer_gentleman', 2040, 'knezevic1949', 2092, 'd4,e6,c4,b6,Nc3,Bb4,e3,Bb7,Nf3,Ne7,Bd3,Ng6,Bd2,Bxc3,Bxc3,Nh4,Nxh4,Qxh4,O-O,Qg5,e4,f5,d5,O-O,exf5,exd5,f4,Qh4,Qf3,Na6,cxd5,Nc5,Bc4,d6,b4,Nd7,Rae1,Rxf5,Re6,Raf8,g3,Qh5,Qxh5,Rxh5,Rfe1,Bxd5,Bxd5,Rxd5,Re7,Rf7,Re8+,Nf8,Ra8,Rd3,Bb2,Rd2,Bc3,Rxa2,Ree8,Ra3,Bd2,Rd3,Be1,c5,Kf2,Rd4,bxc5,dxc5,Ke3,Rc4,Kd3,Ra4,Bc3,h6,h4,b5,Be5,Ra3+,Kc2,Rxg3,Bd6,c4,Bxf8,Kh7,Bd6,h5', 'Rh8+,Kg6,f5+,Kxf5,Bxg3', 'https://lichess.org/training/ElDRr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ELG3U', 'Rapid', 'Raviteja33', 1859, 'Sokiss14', 1866, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,d4,Nc6,Nf3,Be6,O-O,Na5,Ba4+,Bd7,Bxd7+,Nxd7,Nc3,e6,Re1,Bb4,Re3,O-O,a3,Bd6,b4,Nc4,Re2,Nf6,Nb5,a6,Nxd6,Qxd6,Ne5,Nxe5', 'dxe5,Qd8,exf6', 'https://lichess.org/training/ELG3U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eLgA2', 'Classical', 'kingzeex', 1847, 'Jordi_Vegan', 1763, 'Nf3,d5,d4,Nc6,c4,dxc4,Nc3,a6,a4,Na5,Bf4,f6,e3,g5,Bg3,h5,h3,h4,Bh2,Be6,e4,Nb3,Rb1,g4,hxg4,Bxg4,Bxc4,Bxf3,Qxf3,Nxd4,Qd1,e5,O-O,h3,Qg4,Ne7,Nd5,hxg2', 'Nxf6#', 'https://lichess.org/training/eLgA2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ElH8T', 'Rapid', 'Mohamed-Sawas', 1852, 'davidnio', 1756, 'c4,Nf6,Nc3,d6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,b6,d4,Bb7,Re1,Nbd7,e4,c5,d5,e6,Bg5,exd5,exd5,Re8,Rxe8+,Qxe8,Qa4,h6,Re1,Ne5,Qxe8+,Rxe8,Bxf6', 'Nxf3+,Bxf3,Rxe1+', 'https://lichess.org/training/ElH8T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ElH90', 'Rapid', 'Anmolsingh2000', 1914, 'kkh1', 1722, 'e4,d5,exd5,Qxd5,Nf3,e6,Be2,Nf6,Nc3,Qd8,d4,Be7,Be3,O-O,Qd2,a6,O-O,b5,a3,Nbd7,Rfd1,Bb7,Ne5,Nxe5,dxe5,Qxd2,Rxd2,Nd5,Nxd5,exd5,Rad1,c5,f4,d4,Bf2,Rad8,c3,dxc3,bxc3,Rxd2,Rxd2,c4', 'Rd7,Bxa3,Rxb7', 'https://lichess.org/training/ElH90');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eLhzb', 'Blitz', 'jss77', 2091, 'masure', 2035, 'e4,c5,d4,d5,exd5,cxd4,Nf3,Qxd5,Nc3,Qe6+,Ne2,Nc6,Nxd4,Nxd4,Qxd4,Nf6,Bg5,h6,Bxf6,exf6,O-O-O,Be7,Nf4,Qxa2,Bb5+,Kf8,b3,Bf5,Rd2,Rc8,Bc4,b5,Re1,Ba3+,Kd1,bxc4', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/eLhzb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('elKcq', 'Blitz', 'Globe3', 1606, 'PandoMag', 1537, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Nc3,Bc5,d3,d6,Be3,Bxe3,fxe3,Be6,Nd5,Qd7,Nxf6+,gxf6,Bxe6,Qxe6,Qe2,O-O-O,a3,Rhg8,d4,Qd7,d5,Ne7,Nh4,Rg7,Nf5,Rg5,Nxh6,Rf8,Rxf6,Ng8,Nxg8,Rfxg8,Rf2,Qh3,Kh1,Qh6,Rg1', 'Qxh2+,Kxh2,Rh8+,Qh5,Rhxh5#', 'https://lichess.org/training/elKcq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ell9X', 'Classical', 'brettchristoffersen', 1764, 'Woodbird', 1800, 'd4,Nf6,c4,e6,Nf3,c5,d5,d6,Nc3,exd5,cxd5,Nbd7,e4,g6,Bg5,Bg7,Bb5,a6,Bxd7+,Qxd7,O-O,O-O,Re1,Ng4,Na4,Qc7,Nd2,b5,Nc3,Ne5,Qc2,Bg4,h3,Bc8,f4,Nd7,Nf3,Bb7,Rac1,Rfe8,Bh4,Bh6,Bg3,Nf6,Rcd1,Nh5,Ne2,Nxg3,Nxg3,Bxf4,Qf2,Bh6,Nd2,Bg7,b3,Bd4,Re3,Bc8,Nf3,Bxe3,Qxe3,Qe7,Rf1,Bb7,Qh6,Qf8,Qh4,Qe7,Ng5,f6,Ne6,Bc8,Rxf6,Bxe6,dxe6,Rf8', 'Rxg6+,hxg6,Qxe7', 'https://lichess.org/training/Ell9X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ElMJY', 'Blitz', 'noor123', 1994, 'Alfred108', 1547, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bc4,c6,Nf3,Bg4,O-O,e6,a3,a6,Bd2,Qd8,h3,Bh5,Bg5,Be7,b4,Nbd7,Bb3,O-O,Qd3,Bg6,Qe3,Re8,Rfe1,h6,Bh4,Bd6,Rad1,Be7,Ne5,Bh7,Bxf6,Bxf6,Ne4,Be7,Ng3,Nf6,Nxf7,Kxf7', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/ElMJY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eLmzN', 'Rapid', 'MorphyAgain', 2003, 'whyalwaysme', 1805, 'e4,d5,exd5,Qxd5,c4,Qd8,Nf3,Bf5,Be2,Nf6,O-O,e6,Nc3,c6,d4,Bb4,a3,Bxc3,bxc3,O-O,Bd3,Bxd3,Qxd3,Nbd7,Bg5,h6,Bh4,Re8,Rfe1,b6,Rad1,Qc8,Ne5,Qa6,Qf3,Nxe5,Rxe5,Nh7,Qxc6,Rac8,Qb5,Qxb5,cxb5,Rxc3,d5,Rc5,a4,g5,Bg3,Rd8,d6,Rxe5,Bxe5,f6,Bb2,Kf7,Ba3,Nf8,Rc1,Nd7,Rc7,e5,Rxa7,Ke6,f3,Nc5,Rh7,Rxd6,Rxh6,Rd4,Bxc5,bxc5,a5,Rb4,a6,Rxb5,a7,Ra5,Rh7,c4,Rc7,Kd5,Kf2,Kd4,Ke2,Kc3,g3,Ra2+,Ke3,Ra3,h4,Kb2+,Ke4,c3,h5,c2,h6,c1=Q', 'Rxc1,Kxc1,h7,Rxa7,h8=Q', 'https://lichess.org/training/eLmzN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ElN32', 'Rapid', 'sweetknight', 1767, 'LAMATA', 1773, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nc3,Bb4,Qa4+,Nc6,Nf3,O-O,Be2,Bd7,Qc2,Bxc3,dxc3,Re8,O-O,Bg4,Bg5,Bxf3,gxf3,Re5,Bf4,Rh5,Kh1,Qd7,Rg1,Re8,Rg3,Qf5,Qxf5,Rxf5,Bh6,Nh5,Rag1,g6,Be3,Nxg3+,hxg3,Rfe5,Kg2,f5,f4,R5e7,Bf3,Na5,Bd5+,Kf8,Bc5,b6,Bxe7+,Rxe7,b4,c6,bxa5,cxd5,axb6,axb6,cxd5,Rc7,Rc1,b5,Kf3,Ke7,Ke3,Kd6,Kd4,Rc4+,Kd3,Kxd5,Rb1,Kc5,Rb3,Ra4,a3,Ra7,f3,Rd7+,Kc2,Re7,Kd3,Rd7+,Kc2,Re7,Kd3,h5,Rb1,Rd7+,Kc2,Re7,Kd3,Ra7,Ra1,Rd7+,Kc2,Kc4,a4,Ra7,a5,Ra6,Ra2,b4,Ra4,Kb5,Kb3,bxc3,Rb4+,Kxa5', 'Ra4+,Kb5,Rxa6,Kxa6,Kxc3,Kb6,Kd4,Kc6,Ke5', 'https://lichess.org/training/ElN32');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eLOFA', 'Blitz', 'GokhanDemir', 2397, 'FM B_nn_t', 2374, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bg5,Nc6,Bxf6,gxf6,e3,e6,g3,f5,Bg2,h5,h4,Bd6,Nge2,b6,O-O,Ba6,Re1,Bxe2,Qxe2,Rc8,Bf3,Qc7,Nb5,Qb8,Nxd6+,Qxd6,Bxh5,Nb4,Rec1,Ke7,a3,Nc6,Bf3,Na5,b4,Nc4,Rc3,b5,a4,Qxb4,Qc2,a6,axb5,axb5,Ra7+,Kf6,Qb3', 'Qxb3,Rxb3,Nd2', 'https://lichess.org/training/eLOFA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eLOfK', 'Rapid', 'gazzolaa', 1664, 'ater2004', 1685, 'e4,d5,exd5,e6,Nc3,exd5,d4,Bd6,Nf3,Nc6,Bb5,Bf5,Nxd5,Be4,Nc3,Qe7,O-O,Nf6,Re1,O-O,Nxe4,Nxe4,Qd3,f5,Ng5,Kh8,Nxe4,fxe4,Rxe4,Qf6,Qe2', 'Nxd4,Rxd4,Qxd4', 'https://lichess.org/training/eLOfK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ELOvK', 'Rapid', 'jktico', 1684, 'safasoan', 1672, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d3,d5,exd5,Nxd5,Nc3,Nf6,Bg5,Bb4,a3,Ba5,b4,Bb6,O-O,Bg4,Nd5,O-O,Nxf6+,gxf6,Bh6,Re8,h3,Bh5,g4,Bg6,Nh4,f5,Nxg6,hxg6,gxf5,g5,Qh5,Qf6,Bxg5,Qxf5,Qh6,Re6,Bxe6,fxe6,Bf6,Qh7,Qg5+,Kf7,Bxe5', 'Rg8', 'https://lichess.org/training/ELOvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('elOXp', 'Rapid', 'A472199', 2188, 'billof', 2132, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd5,b5,c3,Bg5,Nc2,O-O,h4,Bf6,Nce3,h6,Qh5,Be7,g4,Ra7,g5,Kh7,Bd3,Qe8,gxh6,g6,Qf3,Bd8,Nf6+,Bxf6,Qxf6,Rg8,Nd5,Be6,h5,Ne7,Qg7+,Rxg7,Nf6+,Kh8', 'hxg7+,Kxg7,Nxe8+', 'https://lichess.org/training/elOXp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ELpji', 'Classical', 'roslag-97-2-vin-100', 1890, 'askhat145', 1910, 'd4,d5,Bf4,Nf6,e3,Bf5,c3,e6,Nf3,Nbd7,Bd3,Bxd3,Qxd3,Be7,Nbd2,O-O,h3,c5,O-O,c4,Qc2,Rc8,Ne5,Nxe5,Bxe5,b5,a3,a5,f3,b4,axb4,axb4,Ra7,b3,Qb1,Nd7,Bg3,Ra8,Rxa8,Qxa8,Qa1,Qc6,Nb1,Nb6,Na3,Ra8,Qb1,Bxa3,bxa3,Rxa3,f4,Na4,Be1,h6,f5,e5,dxe5,Ra2,f6,d4,e4,Rb2,Qd1,Qxe4,Qf3,Qg6,cxd4,Rb1,Qa8+,Kh7,Qxa4,b2,Qxc4', 'Rc1,Qe2,b1=Q', 'https://lichess.org/training/ELpji');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eLPM0', 'Blitz', 'jmwgroff', 2242, 'Besbe19', 2216, 'd4,Nf6,c4,c5,d5,e5,Nc3,d6,g3,Be7,Bg2,O-O,e4,Ne8,Nf3,Nd7,O-O,g6,Bh6,Ng7,Qd2,Nf6,h3,Kh8,a3,Ng8,Be3,f5,b4,b6,bxc5,bxc5,Rab1,Nh5,exf5,gxf5,Bg5,e4,Bxe7,Qxe7,Ng5,h6,Ne6,Bxe6,dxe6,Qxe6,Nd5,Rab8,Qc3+,Qe5,Qxe5+,dxe5,g4,Nf4,gxf5,Nxg2,Kxg2,Rxb1,Rxb1,Rxf5,Rb8,Kg7', 'Rxg8+,Kxg8,Ne7+,Kf7,Nxf5', 'https://lichess.org/training/eLPM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('elQa3', 'Rapid', 'KuroEinzbern', 1813, 'd6_vs_everything', 1815, 'e4,d6,d4,Nf6,Nc3,Nbd7,Bd3,e5,Nf3,c6,Bg5,Be7,Qd2,Qc7,O-O-O,O-O,g4,b5,h4,Re8,Bxf6,Bxf6,g5,Be7,h5,exd4,Nxd4,Bf8,g6,fxg6,hxg6,h6,Nf5,Nf6,Rh2,b4,Ne2,Nxe4,Bxe4,Rxe4,Neg3,Bxf5,Nxf5,Re6,Rg1,Rae8,Nd4,Re5,Rgh1,c5,Nf3,Re2,Qf4,Qd8,Qf7+,Kh8', 'Rxh6+,gxh6,Qh7#', 'https://lichess.org/training/elQa3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('elRbM', 'Rapid', 'Andreosky', 1776, 'renexo', 1715, 'd4,Nf6,Bg5,Ne4,Nf3,d5,Bf4,Nc6,c3,Bf5,e3,e6,Nbd2,Bd6,Bxd6,Qxd6,Nxe4,Bxe4,Nd2,Bg6,Nf3,O-O,Be2,Rfe8,O-O,Rad8,Bd3,Bh5,Be2,Bxf3,Bxf3,e5,dxe5,Nxe5,Qe2,Re6,Rfd1,Rh6,g3,c6,e4,Re8,exd5,Nxf3+,Qxf3,cxd5,Rxd5,Qb6,Rd2,Rf6,Qg2,Rfe6,Qf1,Qc5,Rad1,Qh5,Rd8,f6,Rxe8+,Rxe8,Qd3,Qh3,Qd7', 'Re1+,Rxe1,Qxd7', 'https://lichess.org/training/elRbM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ElsHd', 'Rapid', 'konor85', 1728, 'Oguz7675', 1735, 'd4,Nf6,h3,d5,Nf3,e6,e3,Nc6,a3,Bd6,c4,O-O,c5,Be7,Be2,a6,O-O,h6,Nc3,Re8,b4,Nd7,Bd3,a5,b5,Ncb8,a4,c6,b6,Bf6,Bb2,e5,dxe5,Nxe5,Nxe5,Bxe5,Rb1,Qh4,f4,Bf6,Qf3,d4,exd4', 'Bxd4+,Kh1,Re3,Qxe3,Bxe3', 'https://lichess.org/training/ElsHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eLTmy', 'Rapid', 'Sullenberger', 1926, 'BrianFoster', 1837, 'e4,c5,Nf3,d6,Nc3,Nc6,Bb5,Bd7,O-O,e5,Nd5,Nf6,h3,Nxe4,c3,Nf6,Nxf6+,Qxf6,d4,cxd4,cxd4,Nxd4,Bxd7+,Kxd7,Nxd4,exd4,Bd2,b6,Qg4+,Qe6,Qxd4,Qe5,Qa4+,Kd8,Rfe1,Qd5,Re8+,Kc7,Rc1+,Kb7,Qd7+,Ka6,Qa4+,Kb7,Qd7+,Ka6,Rxa8,Qxa8,Rc7,b5,Rc6+,Qxc6', 'Qxc6#', 'https://lichess.org/training/eLTmy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ELu6r', 'Rapid', 'PowerOfD', 1782, 'WinnieDragon', 1857, 'e4,e6,c4,Bc5,Nc3,Nf6,d4,Be7,e5,Ng8,Nf3,d6,Bd3,d5,a3,dxc4,Bxc4,a6,O-O,b5,Bb3,c5,Be3,Bb7,Bc2,Nc6,dxc5,Qxd1,Raxd1,Rd8,b4,Nh6,Bxh6,gxh6,Ne4,Rg8,Nd6+,Bxd6,exd6,f5,Nd4,Nxd4,Rxd4,Bxg2,f3,Bxf1+,Kxf1,e5,Rd1,e4,Re1,Kd7,fxe4,fxe4,Bxe4,Rge8,Bf5+,Kc6,Be4+,Kd7,Kf2,Re5,Bc6+,Ke6,Rxe5+,Kxe5,Bb7,Rf8+,Ke3,h5,Bxa6,Rb8,d7,Ke6,Bxb5,Ra8,a4,Ke7,c6,Kd8,Kf4,Kc7,a5,Rb8,a6', 'Rxb5,a7,Rxb4+', 'https://lichess.org/training/ELu6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ELUs6', 'Blitz', 'IM ChessExplained', 2577, 'FC_Rostov', 2582, 'Nf3,d5,e3,e6,c4,Nf6,Nc3,Be7,b3,O-O,Bb2,b6,cxd5,Nxd5,Nxd5,Qxd5,Bc4,Qd8,Qc2,Bb7,h4,Bxf3,gxf3,Nd7,Bd3,h6,Be4,Rc8,Bc6,Bf6,Bxd7,Bxb2,Qxb2,Qxd7,Rg1,f6,Ke2,c5,Qc2,Rcd8,Rg6,Rf7,Rag1,Kf8,a4,Qd5,d3,Rfd7,Rd1,Qh5,Rg4,f5,Rc4,e5,b4,Rd5,bxc5,bxc5,Rxc5,e4,Rxd5,Qxf3+,Ke1,Rxd5,Qc8+,Ke7,Qc7+,Rd7,Qe5+,Kf7,d4,Qh1+,Ke2,Qf3+,Ke1,Re7,Qd5+,Kf6,Rc1,Re6,Rc7,Qh1+,Kd2,Qxh4', 'Qd8+,Kg6,Qxh4', 'https://lichess.org/training/ELUs6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('elV2Q', 'Blitz', 'FM RafaSaladen', 2247, 'onierky', 1958, 'd4,e6,Nf3,b6,c4,Bb7,Nc3,Nf6,g3,Be7,Bg2,O-O,d5,exd5,Nh4,Ne4,Nf5,Nxc3,bxc3,Bf6,Qd2,d6,cxd5,Nd7,O-O,Ne5,Rb1,Qd7,Bh3,Qa4,Rb4,Qa5,c4,Nxc4', 'Rxc4,Qxd2,Bxd2', 'https://lichess.org/training/elV2Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ElVA3', 'Rapid', 'VladimirJuice', 1990, 'hooponopono', 2025, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Ng5,Nh6,Qf3,O-O,O-O,Nxd4,Qd1,Ng4,Nc3,Ne5,Be2,Nxe2+,Qxe2,h6,Nf3,Bg4,Nd5,Nxf3+,gxf3,Bh3,Re1,Ba5,b4,Bb6,Kh1,c6,Nxb6,axb6,Rg1,Kh7,Rg3,Be6,Bb2,g6,a3,d5,Rag1,Rg8,Qe3,b5,Qf4,Qe7,exd5,Bxd5', 'Qxh6+,Kxh6,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/ElVA3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('elVbq', 'Rapid', 'ziomichele', 1764, 'Mohammed_hussain1', 1830, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Nc3,Ngxe5,Nxe5,Nxe5,Ne4,Bb4+,Bd2,Bxd2+,Nxd2,O-O,Nf3,d6,Be2,Be6,Qc2,Nxf3+,gxf3,Qh4,O-O-O,b5,Bd3,bxc4,Be4,Rab8,Rhg1,c3,Qxc3,g6,Rd4,Qxf2,Rdd1,Bxa2,Rdf1,Qh4,Rg4,Qxh2,f4,Qe2,Rfg1,f5,Rxg6+,hxg6,Rxg6+,Kf7,Qg7+,Ke8,Re6+,Bxe6', 'Bc6+,Bd7,Qxd7#', 'https://lichess.org/training/elVbq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ElVSj', 'Classical', 'hakan-05', 1642, 'DHEVYD', 1601, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,d6,Nc3,Bg4,h3,Bh5,Ne5,Nxe5,Qxh5,Qd7,Bb3,O-O-O,O-O,Nf6,Qe2,Kb8,Nd5,Nxd5,Bxd5,c6,Bb3,g6,f4,Bg7,fxe5,Bxe5,Bxe5,dxe5,Rxf7', 'Qd4+,Qf2,Qxa1+', 'https://lichess.org/training/ElVSj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ElVvp', 'Blitz', 'Kvisko067', 2041, 'vicbra', 1989, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,Nf6,f3,O-O,Qd2,d6,O-O-O,Bd7,h4,h5,Be2,a5,g4,Nxd4,Bxd4,a4,gxh5,Nxh5,Bxg7,Kxg7,f4,Ng3,Rhg1,Nxe2+,Qxe2,Rh8,f5,a3,b3,Qa5,Nd5,e6,f6+,Kf8,Qg4,exd5,Qxd7,Qc3', 'Qe7+,Kg8,Rxg6+,Kh7,Qxf7#', 'https://lichess.org/training/ElVvp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ELVwG', 'Rapid', 'Glenkingxcy', 1839, 'Andriel', 1869, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,Bg4,Qb3,b6,h3,Bc8,Nf3,Bb7,Bd3,Nbd7,O-O,O-O,Be3,Nh5,c5,dxc5,dxc5,e5,Nd5,Bxd5,exd5,Nxc5,Bxc5,bxc5,fxe5,Nf4,Bc4,Rb8,Qe3,Nxd5,Qxc5,Nf4,Rad1,Qe8,Ng5,Ne6,Bxe6,fxe6,Qxc7,Rxf1+,Rxf1,Qd8,Nxe6,Qxc7,Nxc7,Bxe5,Ne6,Bxb2,g4,h6,Kg2,Be5,Nc5,Rb2+,Rf2', 'Rxf2+,Kxf2,Bd4+,Kg3,Bxc5', 'https://lichess.org/training/ELVwG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('elwyZ', 'Blitz', 'Tannah', 1611, 'paulodoequaciona', 1578, 'd4,d5,Nf3,Nc6,e3,Nf6,c4,Bf5,Nc3,e6,Be2,Ne4,Bd2,Nxd2,Qxd2,Be7,O-O,O-O,Rfe1,Bf6,cxd5,exd5,Bd3,Bxd3,Qxd3,Re8,Qc2,Nb4,Qb1,a5,e4,dxe4,Nxe4,Bxd4,Nfg5,h6', 'Nf6+,Qxf6,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/elwyZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('elXTD', 'Blitz', 'Serg1000000', 2081, 'Jony0304', 2197, 'Nf3,e6,g3,f5,Bg2,Nf6,Nc3,d5,d4,c6,Ne5,Be7,Bf4,O-O,Nd3,Ne4,h4,Bd7,Nxe4,fxe4,Ne5,Be8,Bh3,Qc8,e3,Bf6,h5,Bxe5,Bxe5,g6,Qg4,Bf7,Qg5,Nd7,hxg6,hxg6,Qxg6+,Bxg6', 'Bxe6+,Rf7,Rh8#', 'https://lichess.org/training/elXTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ELxu6', 'Rapid', 'Elshayebhamdy65', 2023, 'Felipecm', 2039, 'd4,Nf6,c4,e6,a3,c5,d5,d6,Nc3,exd5,cxd5,Nbd7,e4,Ne5,f4,Ng6,Bd3,Bg4,Nf3,Nh4,O-O,Nxf3+,gxf3,Bh3,Rf2,Be7,f5,Nh5,f4,Bh4,Rc2,c4,Bxc4,Qb6+,Kh1,Nf6,Bb5+,Kf8,Qf3,Bg4,Qg2,Rg8,h3,Bh5,e5,g6,exf6', 'gxf5', 'https://lichess.org/training/ELxu6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('elZON', 'Classical', 'wendellshadow13', 1990, 'hakam---hasan', 2035, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Be3,Bg7,Bc4,Qa5,f3,Qb4,Bb3,Nxe4,Nxc6,Bxc3+,bxc3,Qxc3+,Bd2,Nxd2,Qxd2,Qxa1+,Kf2,Qxh1,Ne5,O-O,Qh6,d6,Nxg6,Be6', 'Nxe7+,Kh8,Qf6#', 'https://lichess.org/training/elZON');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eM0cq', 'Classical', 'Paky', 1917, 'agus12345', 1880, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,d3,c6,Be3,Bg4,Qd2,b5,Bb3,a5,a3,a4,Ba2,Be7,h3,Bxf3,gxf3,d5,d4,exd4,Bxd4,c5,Bxf6,Bxf6,Bxd5,O-O,Bxa8,Qxd2+,Kxd2,b4,Nd5,Bxb2,Ra2,bxa3,Nb6,c4,Nxc4,Na6,Nxb2,axb2,Rxb2,Rxa8,Ra1,Nc5,Kc3,Rc8,Kd4,g5,Rb5,Ne6+,Ke3,Rxc2,Rxa4,h5,Rd5,Rc3+,Rd3', 'Rxd3+,Kxd3,Nc5+,Ke3,Nxa4', 'https://lichess.org/training/eM0cq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('em0Qs', 'Classical', 'vicou12', 1714, 'Agus2T', 1669, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Nbd7,Bf4,b5,c5,b4,Na4,Nh5,Bd2,g6,Bxb4,Rb8,a3,a5,Bc3,Bg7,e3,Qc7,Qd2,e5,Bxa5,Qa7,Nb6,exd4,exd4,Nhf6,Bd3,O-O,O-O,Re8,Rfe1,Bb7,b4,Ne4,Qf4,Ndf6,Bxe4,Nxe4,Nd7,Rbc8,Re3,Ba6,Nfe5,f6,Nxf6+,Nxf6,Rae1,Nh5,Qf3,Rf8,Qg4,Rce8,h4,Bc8,Qe2,Nf4,Qd2,Bh6,Nxc6,Qf7,Rxe8', 'Nh3+,gxh3,Bxd2', 'https://lichess.org/training/em0Qs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EM1ug', 'Rapid', 'Yatinkumar', 2082, 'moris_1974', 1706, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,h6,Bd3,Ngf6,O-O,Be7,c3,O-O,Re1,b6,Ng3,Bb7,Bf4,Bd6,Qd2,Bxf4,Qxf4,c5,Rad1,Rc8,dxc5,Qc7,Qxc7,Rxc7,cxb6,Nxb6,Nd4,a6,f3,Nbd5,Ne4,Nxe4,Bxe4,Nf4,Bxb7,Rxb7,b3,Nd5,c4,Nc3,Rd2,Rd7,Rc1', 'Rxd4,Rxd4,Ne2+', 'https://lichess.org/training/EM1ug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eM3kK', 'Rapid', 'SelinKarakaya', 1739, 'MertDadaloglu1', 1770, 'e4,c5,Nf3,Nc6,g3,e6,Bg2,d5,exd5,exd5,c3,Nf6,d4,Bg4,dxc5,Bxc5,O-O,O-O,Re1,d4,cxd4,Nxd4,Nc3,Nxf3+,Bxf3,Qxd1,Bxd1,Bxd1,Rxd1,Ng4,Rf1,Rfe8,Kg2,f5,f3,Ne3+,Bxe3,Rxe3,Nd5,Rd3,Rfd1,Rxd1,Rxd1,Rd8', 'Nf6+,Kf7,Rxd8', 'https://lichess.org/training/eM3kK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('em3tE', 'Rapid', 'secmetmet', 2062, 'BlackArrow098', 2000, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,Nc6,Nxc6,bxc6,O-O,O-O,Bg5,h6,Bh4,Rb8,b3,Nh7,Bxe7,Qxe7,Bd3,Qg5,f4', 'Qc5+,Kh1,Qxc3', 'https://lichess.org/training/em3tE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eM51u', 'Blitz', 'Savin1988', 1937, 'vicentillo', 1917, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,d6,f4,Nc6,Nf3,Bf5,Bc4,e6,Bxd5,exd5,Nc3,dxe5,fxe5,Be7,Qb3,Be4,O-O,Bxf3,Rxf3,Nxd4,Qa4+,Nc6,e6,O-O,exf7+,Rxf7,Rd3,Bc5+,Be3,Bxe3+,Rxe3,d4,Rd3,Qf6,Ne4,Qe5,Ng3,Raf8,Qb3,Na5,Qb4,Qf4,Qxa5', 'Qf2+,Kh1,Qf1+,Nxf1,Rxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/eM51u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('em6CB', 'Blitz', 'JHeircount64', 2332, 'Mahmooooooooud111', 2440, 'e4,d6,d4,e6,f4,b6,Nf3,Bb7,Bd3,c5,c3,cxd4,cxd4,Nd7,O-O,Be7,Nc3,Ngf6,e5,Nd5,Ne4,dxe5,fxe5,Qc7,Nfg5,O-O-O,Nxf7,Nc5,Nfd6+,Kb8,dxc5,bxc5,Qe2,Rhf8,Bd2,Qb6,Nxb7,c4+,Kh1,cxd3,Qxd3,Kxb7,Nd6+,Bxd6,exd6,Qxd6,Rxf8,Rxf8,Qxh7,Qe5,Re1', 'Qxe1+,Bxe1,Rf1#', 'https://lichess.org/training/em6CB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EM6mZ', 'Rapid', 'dofs197', 1660, 'Yasser_77', 1782, 'd4,c5,d5,d6,c4,e6,Nf3,exd5,cxd5,a6,e4,h6,Nc3,f5,e5,dxe5,Nxe5,Qe7,Qh5+,g6,Qxg6+,Kd8,f4,Nf6,Bc4,Rh7,O-O,Rg7,d6,Qxe5,fxe5,Rxg6,exf6,Rxf6,Bf4,Nc6,Rfd1,Nd4,Be5,Rg6,Bxd4,cxd4,Rxd4,Bg7,Rd2,Bd7,Rd5,Rc8,Bb3,Bxc3,bxc3,Rxc3,Rad1,Bc6,R5d2,f4,Rf1,f3,g3,Rf6,Rff2,Re3,Bd1,Re1+,Rf1,Rxf1+,Kxf1,Bb5+,Kf2,Kd7,Bxf3,Bc6,Rd3,Be4,Re3,Bxf3,Rxf3,Rxf3+,Kxf3,Kxd6,h4,Ke5,Kg4,Kf6,Kh5', 'Kg7,g4,b5', 'https://lichess.org/training/EM6mZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('em6T8', 'Blitz', 'IvanKis', 1592, 'JMartin9900', 1602, 'e4,d5,exd5,Nf6,Nc3,e6,dxe6,Bxe6,Be2,c6,Nf3,Bc5,O-O,O-O,d3,Nbd7,Bg5,Qb6,b3,Ng4,Na4,Bxf2+,Kh1,Qc7,h3,Bh4,hxg4,Bxg5,Nxg5,Nf6,Nxe6,fxe6,Bf3,Qg3,Nc3,Rae8,Ne4,Nxe4,dxe4,Rf6,Qe2,Ref8,Qf2', 'Rh6+,Kg1,Qh2#', 'https://lichess.org/training/em6T8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eM7bV', 'Rapid', 'noktur', 1947, 'Heartless_MF', 1902, 'd4,Nf6,c4,c5,e3,g6,Nf3,Bg7,Be2,O-O,O-O,a6,dxc5,Qa5,Nc3,Qxc5,Qc2,d6,a3,Nc6,b4,Qa7,Bb2,Bf5,Bd3,Bxd3,Qxd3,Rad8,Rad1,Ng4,Qc2,Nge5,Nxe5,Nxe5,Nd5,e6,Nf4,Rc8,Rxd6,Nxc4,Bxg7,Kxg7,Qc3+,e5,Nd5,b5,f4,Rfe8,fxe5,Rxe5,Rdf6,Nxe3,Rxf7+,Qxf7,Rxf7+,Kxf7,Qxe5', 'Rc1+,Kf2,Ng4+,Ke2,Nxe5', 'https://lichess.org/training/eM7bV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Em7XN', 'Rapid', 'JPN189', 1795, 'Chess-manager', 1813, 'e4,e5,Nf3,d6,c3,Be6,Bb5+,c6,Ba4,b5,Bb3,Bxb3,Qxb3,Nd7,d3,Nc5,Qc2,Be7,b4,Ne6,Bb2,Nf6,h3,O-O,Qd1,a5,Nh2,Nf4,Bc1,Nxg2+,Kf1,Nf4,Ng4,axb4,cxb4,Nxg4,hxg4,Qb6,Bxf4,exf4,Nd2,Bf6,Rc1,Rxa2,Rc2,Rfa8,Rxa2,Rxa2,Kg2,Qd4,Rh3,Qb2,g5,Bxg5,Qh5,Qxd2,Qxh7+,Kf8,Qh8+,Ke7,Rf3,Bf6,Qc8,Rc2,Qc7+,Ke6,Qc8+,Ke5,Qf5+,Kd4,Qd7,Be5,Qxf7,Qxb4,Qa7+,Qc5,Qa1+,Qc3,Qa7+,c5,Qb7,Qb3,Qa8,Kc3', 'd4+,Kb4,Rxb3+', 'https://lichess.org/training/Em7XN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('em8EQ', 'Blitz', 'Aleveshkin', 2062, 'gmdlcolinafernandez', 2071, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qe2,Qxc6,Bd2,Ne7,Nc3,O-O,O-O-O,d6,Be3,Be6,Kb1,a6,f4,Rfe8,f5,Bd7,Bxc5,Qxc5,Qh5,Nc6,Qh3,b5,Qg3,f6,Bd3,Qe5,Qh3,Ne7,Qg4,c5,Qg3,Qxg3,hxg3,Bc6,Be2,Rad8,a4,b4,Bc4+,Kh8', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/em8EQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('em8FQ', 'Rapid', 'SzYmOnSaDoWsKi3', 2071, 'advait420', 1946, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,c5,c3,c4,b3,b5,a4,bxa4,bxc4,Bd7,c5,a5,Ngf3,Nc6,Qxa4,Ne4,Bb5', 'Nxc3,Qb3,Nxb5', 'https://lichess.org/training/em8FQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eM8WD', 'Classical', 'sallysalter', 1856, 'CrisanMihai7', 1763, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nc6,Nc3,e6,Be2,Bb4,Nxc6,bxc6,Bd2,Nf6,f3,h6,a3,Bxc3,Bxc3,O-O,Qd6,a5,O-O-O,Qb6,Bd4,Qb7,Qg3,Nh5,Qe5,Nf6,Qg3,Nh5,Qg4,g6,Qh4,d6,f4,c5,Bc3,Qxe4,Bxh5,gxh5,Qf6,e5,fxe5,Bf5,Rd2,d5,Rf2,Bg6,Re1,Qa4,b3,Qxa3+,Kb1,Qxb3+,Bb2,Rab8,e6,d4,exf7+,Kh7,Qxg6+,Kxg6,cxb3,Rxf7,Re6+,Kg7,Rxf7+,Kxf7,Re5,Rxb3,Rxc5,a4,Rc4', 'a3,Rxd4,Rxb2+', 'https://lichess.org/training/eM8WD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eMb6j', 'Rapid', 'bigorneau', 2172, 'lovahicruces', 2050, 'd4,d5,c4,e6,Nc3,c6,Nf3,Bb4,Qc2,Nd7,a3,Ba5,b4,Bc7,Bg5,f6,Bh4,a5,cxd5,cxd5,e3,axb4,Nb5,Ba5,Qb3,bxa3+,Kd1,b6,Nd6+,Kf8,Qxa3,Ne7,Rc1,Ba6,Bxa6,Rxa6,Ke2,Qa8,Rc7,Be1,Qd3,Bb4,Rxd7', 'Ra2+,Nd2,Rxd2+,Qxd2,Bxd2', 'https://lichess.org/training/eMb6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EmByS', 'Rapid', 'E_Onegin', 2019, 'PACHACUTEC27', 2118, 'e4,c5,b4,b6,bxc5,bxc5,Bb2,d6,Nc3,Nd7,Nd5,e6,Nf4,Bb7,d3,Ngf6,Nf3,g6,Rb1,Bg7,Be2,Rb8,O-O,O-O,h3,Qc7,Re1,Ne8,Bxg7,Nxg7,Bf1,Qa5,e5,d5,d4,Ba6,Bxa6,Qxa6,Nd3,cxd4,Nxd4,Rfc8,Nb4,Rb6,Nxa6,Rxa6,Rb7,Nc5,Rb2,Ne4,Qd3,Ra4,Reb1,Nc3,Rb8,Rc4,Rxc8+,Rxc8,Qa6,Rf8,Qxa7,Nxb1,Qb6,Nc3,Qb3,Ne4,a4,Nf5,a5,Nxd4,Qd3,Nc6,a6,Ra8,Qb5,Nd8,Qd7,Nd2,a7,Nc4,Qc7,Kg7', 'Qb8,Rxb8,axb8=Q', 'https://lichess.org/training/EmByS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eMD7L', 'Bullet', 'Rmawb', 1507, 'Cow1337killr', 1516, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,c6,Bd3,Nbd7,Nbd2,Be7,c3,O-O,Qc2,Re8,O-O-O,Nf8,Rdg1,b5,a3,a5,h4,b4,axb4,axb4,Kd1,Qb6,Ke2,c5,Nh2,c4,Bxh7+,N8xh7,g4,b3,Qb1,Nd7,g5,Nhf8,Nhf3,Bb7,h5,Bd6,h6,g6,h7+,Kh8,Bxd6,Qxd6,Qf1,Ra2,Qh3,Rxb2,Qh6,e5,dxe5,Nxe5', 'Qg7+,Kxg7,h8=Q#', 'https://lichess.org/training/eMD7L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eMe3L', 'Blitz', 'SuperBlueSky', 2013, 'Andialb', 2128, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,c5,Be3,Qa5,Qd2,O-O,Rc1,cxd4,cxd4,Qxd2+,Bxd2,Bg4,Be3,Nc6,d5,Nb4,a3,Na2,Rc2,Nc3,Nd4,Nxe4,f3,Nf6,fxg4,Nxd5,Bf2,e5,Nb5,e4,Bc4,Nf4,O-O,a6,Nd6,b5,Ba2,Rad8,Bc5,Nd3,Nxe4,Nxc5,Nxc5,Rc8,Rfc1,Rfe8,Nxa6,Bd4+,Kf1,Rxc2,Rxc2,Ra8,Rc6,Kg7,Bd5,Ra7,Ke2,Rd7,Bf3,Bb2,Nc5,Re7+,Ne4,Bxa3,Rb6,b4,Kd3,Rc7,Bd1,Rd7+,Kc2,Rd4,Bf3,f5,gxf5,gxf5,Nc5,Rc4+,Kb3,Rc3+,Ka4,Rxc5,Rb7+,Kg6,Rb6+,Kg5,Rc6,Re5,g3,f4', 'h4+,Kf5,g4#', 'https://lichess.org/training/eMe3L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eMfoe', 'Rapid', 'hesamkhoshnavaz', 1968, 'sawyas', 2084, 'e4,e6,e5,d5,d4,c5,Bb5+,Nc6,Nf3,Bd7,Be3,Nxe5,Bxd7+,Nxd7,dxc5,Bxc5,Bxc5,Nxc5,Qd4,Qa5+,c3,Nb3,Qxg7,O-O-O,Qxh8,Nxa1,Nd4,Qxa2,O-O,Qxb2,Qxh7,Nc2,Nxc2,Qxc2,Qxf7,Qf5,Qxf5,exf5,Na3,a6,Nc2,Nf6,f3,b5,Nd4,Rd7,Nxf5,Rc7,Rc1,b4,g4,Rxc3,Rxc3+,bxc3,Nd4,a5,h4,a4,h5,a3,h6', 'a2,Nc2,d4,Kf2,d3', 'https://lichess.org/training/eMfoe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EMfPR', 'Blitz', 'Amey-Patil', 1635, 'ozcanfirat670', 1634, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,e4,Nfd7,Bg5,f6,Bh4,h5,e5,dxe5,dxe5,g5,exf6,exf6,Bg3,h4,Qe2+,Qe7,Bxc7,Qxe2+,Bxe2,Na6,Bd6,Bf8,Bxf8,Rxf8,O-O,Kf7,Nd5,Ndc5,Bd1,Nb4,a3,Nbd3,Bc2,Nxb2,Rfe1,Nxc4,Re7+,Kg8,Bh7+,Kh8,Rc1,b5,a4,a6,axb5,axb5,Bg6,Bb7', 'Rh7+,Kg8,Ne7#', 'https://lichess.org/training/EMfPR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EmFZL', 'Rapid', 'KMaksim', 1793, 'Quidam81', 1772, 'e4,e5,Qf3,Bc5,Bc4,Nf6,Nc3,Nc6,Nge2,O-O,h3,b6,d3,Bb7,Bg5,Be7,Bxf6,Bxf6,a3,Nd4,Nxd4,exd4,Ne2,c5,O-O,a6,Qg3,d6,f4,d5,exd5,Bxd5,Bxd5,Qxd5,b3,Qh5,Rae1,Bh4,Qg4,Qxg4,hxg4,Bxe1,Rxe1,Rfe8,Kf2,Rad8,Rh1,Rd6,f5,Rh6,Rxh6,gxh6,Nf4,Kg7,Nh5+,Kh8,Nf4,Kg8,Nd5,Rb8,f6,Kf8,a4,Rd8,Nxb6,Rd6,a5,Rxf6+,Ke2,Re6+,Kf2,Kg7,g3,Kg6,Nd7,Kg5,Nxc5,Rc6,b4,Kxg4,Kg2,Rf6,Ne4,Rf3', 'Nf2+,Rxf2+,Kxf2', 'https://lichess.org/training/EmFZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eMGFM', 'Blitz', 'andreygubkin', 1997, 'Rashad123455', 1990, 'd4,d5,Bf4,Nf6,e3,Nc6,c3,Bf5,Nd2,e6,Qb3,Rb8,Ngf3,Be7,Be2,O-O,O-O,Ne4,h3,Nxd2,Nxd2,Bg5,Bg3,Qf6,Bxc7,Rbc8,Qxb7,Qg6,Qxc6,Bd8,Qa4,Bxh3,Bg3,Bc7,Qxa7,Bxg3,fxg3,Qxg3,Rf2,Bxg2,Rxg2,Qxe3+,Kh1,Qxd2,Qe7,Qxb2,Rag1,g6,Qf6,Qxc3,Bh5,Qh3+,Rh2,Qe3,Bxg6,fxg6', 'Rxg6+,hxg6,Qxg6#', 'https://lichess.org/training/eMGFM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EmGi5', 'Blitz', 'mohamadbolandi', 1752, 'uksal', 1695, 'c4,e6,e3,c6,a3,Nf6,b3,d5,d4,g6,Nf3,Bg7,Bb2,O-O,Nc3,Bd7,c5,b6,b4,bxc5,bxc5,Re8,Bd3,a5,Na4,Bc8,O-O,Nbd7,Bc3,Ba6,Qd2,Bxd3,Qxd3,Ne4,Be1,Qe7,Rb1,e5,Rb7,Qe6,Nd2,exd4,exd4,Nexc5,dxc5,Qxe1,Rxe1,Rxe1+,Nf1,Rxf1+,Kxf1,Ne5,Qh3,Re8,f4,Nc4,Qd7,Nd2+,Kf2,Bd4+,Kg3,Re3+,Kg4', 'h5+,Kg5,Ne4+,Kh6,Bg7#', 'https://lichess.org/training/EmGi5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('emh9M', 'Rapid', 'belenuga', 1742, 'Kleopatra2019', 1875, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,f4,O-O,Nf3,c5,h4,cxd4,cxd4,Bg4,e5,Bxf3,Qxf3,Qxd4,Rb1,Nc6,Bb5,Rfd8,Be3,Qd5,Qe2,Rac8,O-O,f6', 'Bc4,Qxc4,Qxc4+', 'https://lichess.org/training/emh9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('emhFZ', 'Rapid', 'Mamm0uth', 1619, 'a-r', 1683, 'c4,e6,Nc3,Nf6,g3,c6,Bg2,Be7,Nf3,O-O,O-O,d5,d3,dxc4,dxc4,Qxd1,Rxd1,Nbd7,Rb1,Nc5,b4,Nce4,Bb2,Bxb4,Rbc1,Nxc3,Bxc3,Bxc3,Rxc3,Ne4,Rb3,Nc5,Rb2,f6,Rdb1,Rd8,Ne1,e5,Nd3,Nxd3,exd3,Rxd3,h4,Rd4,c5,Bf5,Rc1,Rb8,Kh2,Be4,Bf1,b6,Ba6,Bd3,Bxd3,Rxd3,cxb6,Rxb6,Rxb6,axb6,Rxc6,b5,Rb6,Rd5,Kg2,Kf7,Kf3,Kg6,Ke4,Rd4+,Ke3,b4,f4,Kf5,Rb5,Re4+,Kf3,Rc4,Ke3,Rc3+,Kd2,Rxg3,fxe5,fxe5,Rxb4,Rg4', 'Rxg4,Kxg4,a4,Kf5,a5', 'https://lichess.org/training/emhFZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EmHwh', 'Blitz', 'galibhuda', 1747, 'redwantuhin04', 2090, 'e4,c5,Bc4,Nc6,Nc3,Nf6,d3,g6,h3,Bg7,Nf3,O-O,O-O,d6,Nh2,Be6,Bb3,Nd4,f4,Nxb3,axb3,a6,f5,Bd7,Ng4,Nxg4,Qxg4,Bc6,Ne2,Qc8,Ng3,b5,Rb1,a5,Bg5,Qd7,Qh4,a4,Bxe7,Rfe8,f6,axb3,cxb3,Bh8,Qg5,Qe6,Nf5,h5,Kh2,b4,Kh1,Bb5,Rbd1,Ra2,Rd2,Ra6,d4,Bxf1,d5,Qxe4,Nh6+,Kh7,Nxf7,Ra1', 'Qh6+,Kg8,Qxh8+,Kxf7,Qg7#', 'https://lichess.org/training/EmHwh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('emi4H', 'Rapid', 'Chrocht', 2108, 'Aquilabianca', 2206, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nc6,e4,Nf6,e5,Ng8,f4,Bf5,Nf3,e6,Bd3,Nge7,O-O,h6,Nb5,Ng6,Bxf5,exf5,Nc3,Be7,Qb3,O-O,Nxd5,Na5,Nxe7+,Nxe7,Qd3,Qd5,Bd2,Nac6,Bc3,b5,a3,a5,Rfd1,b4,axb4,axb4,Rxa8,Rxa8,Be1,g6,Rc1,Rd8,Rc5', 'Qxc5,dxc5,Rxd3', 'https://lichess.org/training/emi4H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EmkVh', 'Rapid', 'mraustinite', 1634, 'Hamletroy', 1621, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bg4,h3,Bh5,Nc3,a6,Be2,Nf6,d3,h6,Nh2,Bxe2,Qxe2,Nd7,f4,Qh4,Nf3,Qg3,fxe5,Ndxe5,Nd5,O-O-O,Nxe5,dxe5,Rf3', 'Nd4,Rxg3,Nxe2+', 'https://lichess.org/training/EmkVh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eml5P', 'Blitz', 'alezam', 1749, 'Anas0anas', 1743, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Be7,d3,O-O,Bg5,d6,h3,Na5,Nd5', 'Nxd5,Bxd5,Bxg5,Nxg5,Qxg5', 'https://lichess.org/training/eml5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EmnKH', 'Classical', 'RAM_777', 1839, 'adis1990', 1845, 'Nf3,d5,d4,Nf6,e3,Bg4,Be2,e6,O-O,Bd6,b3,O-O,Nbd2,c5,dxc5,Bxc5,Bb2,Nc6,a3,Re8,b4,Bd6,b5,Ne7,c4,Ng6,Rc1,Rc8,Qa4,Ne4,Nxe4,dxe4,Nd4,Bxh2+,Kxh2,Qh4+,Kg1,Ne5,f3,exf3,Nxf3,Bxf3,Bxf3,Nd3,Rc2,Rc5,Bd4,Rg5,Qb3,Ne1,Re2,Nxf3+,Rxf3,Qe4,Rf4,Qg6,Ref2,e5,Rxf7,exd4,c5,Rxg2+,Rxg2,Qxf7,Qxf7+,Kxf7,exd4,Re3,Rc2,Rxa3', 'c6,bxc6,bxc6', 'https://lichess.org/training/EmnKH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eMOIc', 'Blitz', 'Fumoques', 1825, 'fernan_27', 1852, 'd4,Nf6,Nc3,d5,f3,Bf5,g4,Bg6,g5,Nh5,e4,e6,Bd3,Bb4,h4,Nd7,Bd2,c6,Qe2,O-O,O-O-O,a5,a3,Be7,Nh3,b5,Nf4,Ng3,Qg2,Nxh1,Rxh1,f6,h5,Be8,gxf6,Bxf6,e5,Bg5,Rg1,Qe7,Nxe6,Bxd2+,Kxd2,Rf7,Ng5,Rf8,Bxh7+,Kh8,h6,g6,e6,Nf6,Bxg6,Bxg6,f4,b4,f5,Bh7,Ne2,bxa3,bxa3,Qxa3,Nf7+,Rxf7,exf7,Qf8', 'Qg7+,Qxg7,hxg7#', 'https://lichess.org/training/eMOIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EMomF', 'Blitz', 'serkanyb', 1934, 'sujashkumarsharma', 1910, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nb3,Be6,Bg5,Nbd7,Qf3,Be7,h4,h6,Be3,b5,Nd2,b4,Ne2,d5,exd5,Nxd5,h5,N7f6,Ne4,Rc8,Qg3,Nxe4,Bxe4,Bf6,Rd1,Qa5,O-O,Nxe3,fxe3,Qxa2,Rxf6,gxf6,Qg7,Rf8,Qxf6,Qxb2,Qxh6,b3,Qf6,bxc2', 'Bc6+,Rxc6,Qd8#', 'https://lichess.org/training/EMomF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('emoW6', 'Blitz', 'slowmotion12', 1528, 'Kayles', 1550, 'e4,c5,Bc4,d6,Nc3,a6,d3,Nf6,Nf3,b5,Bb3,Bb7,e5,dxe5,Nxe5,Nc6,Nxc6,Bxc6,O-O,e6,Bg5,Be7,Re1,O-O,Re3,Nd5,Bxd5,Bxg5,Bxc6,Bxe3,Bxa8,Bxf2+,Kxf2,Qxa8,Kg1,Qa7,Ne4,Rd8,Qd2,c4+,Kh1,cxd3,cxd3,Qd4,Rd1,a5,Qxa5,h6,Qxb5,Qxe4,h3,Qe2,Qa4,Rd5,Qb3,Rg5,Rg1,Rg3,a4,Qe3,a5', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/emoW6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('emOZE', 'Bullet', 'ImRockHere2', 2313, 'GM Bombegranate', 2546, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,Nc6,Be2,Bd6,O-O,O-O,Re1,e5,c3,Re8,Qc2,a5,a4,h6,exd5,Nxd5,Nc4,Bf8,Bf1,Qf6,Be3,Bg4,Nfd2,Qg6,Kh1,f5,Be2,f4,Ne4,fxe3,Nxe3,Nxe3,fxe3,Bxe2,Rxe2,Rad8,Rf1,Kh7,Ref2,Be7,d4,exd4,exd4,Rf8,Qe2,Rxf2,Rxf2,Rf8,Rxf8,Bxf8,h3,Bd6,g4,Nd8,Qf3,Ne6,h4,Bf4,d5,Be5', 'h5,Qe8,Qf5+', 'https://lichess.org/training/emOZE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('emQ3S', 'Blitz', 'NM rychessmaster1', 2540, 'retardedplatypus123', 2464, 'd4,d5,Nc3,Nf6,Bf4,Bf5,f3,e6,g4,Bg6,h4,h5,g5,Nfd7,e3,a6,Bd3,Bxd3,cxd3,g6,Nge2,Bg7,Kf2,O-O,Rc1,Nc6,Re1,e5,dxe5,Ndxe5,d4,Nc4,b3,Nb6,Ng3,Re8,a4,Rc8,Qd2,Ne7,Kg2,Nd7,e4,dxe4,fxe4,c5,d5,Ne5,Bxe5,Bxe5,Nce2,b6,Rf1,Nc6,Qd3,Nb4,Qf3,Qd7,Rf2,b5,axb5,axb5,Rcf1,Re7,Nxh5,gxh5,Qxh5,Bg7,g6,fxg6,Qxg6,Nxd5,exd5,Qxd5+,Kg1,Qxb3,Ng3,Qe6,Rf6,Qe3+,Kg2,Rd8,R1f2,Rd2', 'Rf8#', 'https://lichess.org/training/emQ3S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EMR0N', 'Rapid', 'mokhlas83', 1838, 'MIKHAIL_58', 1759, 'e4,d5,Nf3,dxe4,Ng5,Nf6,d3,exd3,Bxd3,c6,Nxf7,Kxf7,Bc4+,Ke8', 'Bf7+,Kxf7,Qxd8', 'https://lichess.org/training/EMR0N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EmRxc', 'Rapid', 'Urussu', 1653, 'Lord_Ibrah', 1617, 'e4,c5,Nf3,Nc6,Nc3,g6,Bc4,Bg7,Ng5,e6,d3,Nge7,Nb5,d5,exd5,exd5,Bb3,a5,a3,O-O,O-O,a4,Ba2,Ne5,Bf4,Bd7,Nd6,Bg4,Nxb7,Rb8,Nxd8,Bxd1,Bxe5,Bxe5,Ndxf7,Rxf7,Nxf7,Kxf7,Rfxd1,Rxb2,Bxd5+,Nxd5,Re1,Bc3,Reb1,Rxc2,Rc1,Rd2,Rd1,Bxa1,Rxd2,Bc3,Rc2,Ke6,Kf1,Ke5,g3,Kd4,Ke2,Nf6,h3,h5,Rc1,Nd7,Rb1,Ne5,Rb7,Nxd3,Rd7+,Kc4,Rxd3,Kb3,Kd1,c4,Rf3,Kb2,g4,Bd4,Rf4', 'c3,Ke2,c2,Rxd4,c1=Q', 'https://lichess.org/training/EmRxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EmRzl', 'Rapid', 'UrielRisen', 1813, 'Victor0610', 1950, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,Ng5,Nh6,Nxf7,Nxf7,Bxf7+,Kxf7,Qh5+,g6,Qxc5,Qf6,O-O,d6,Qb5,Re8,f3,Rb8,c3,a6,Qa4,dxc3,Nxc3,Qd4+,Qxd4,Nxd4,Be3,Nc2,Nd5,Nxe3,Nxe3,Be6,b3,Rbc8,Rac1,Bd7,Nd5,Bc6,Rfd1,Bxd5,Rxd5,Re5,Rxd6,Ke7,Rd4,Re6,Kf2,Rd6,Ke3,Rxd4,Kxd4,Rd8+,Ke3,c6,Ke2,h6,Rd1,Rf8,Ke3,g5,g3,Rg8,Rd2,h5,h4,gxh4,gxh4,Rg1,f4,Rg3+,Kd4,Rg4,f5,Rxh4,Rf2,Rh1,f6+,Kf7,e5,h4', 'e6+,Kxe6,f7', 'https://lichess.org/training/EmRzl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EMTle', 'Rapid', 'balefire', 1753, 'frayed-knot', 1789, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,g6,Be3,Bg7,Qd2,Nf6,O-O-O,O-O,f3,Bd7,g4,Nc6,h4,Ne5,Bg2,Nc4,Qe2,Nxe3,Qxe3,Kh8,h5,Rc8,hxg6,fxg6,g5,Nh5,Rdf1,Ng3,f4,Nxf1,Bxf1,Bg4,Qg3,Qd7,Qh4,Bh5,Be2,Kg8', 'Bxh5,gxh5,Qxh5', 'https://lichess.org/training/EMTle');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eMw4N', 'Blitz', 'cdummy', 2103, 'mike11783', 1791, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nf6,Bd3,Be7,dxc5,Bxc5,O-O,O-O,Nbd2,Nc6,Nb3,Bd6,h3,h6,Be3,b6,Nbd4,Nxd4,Bxd4,Bb7,a4,Ne4,Qb3,Bc7,a5,Ng5,Nxg5,hxg5,Rfe1,Re8,Bb5,Rxe1+,Rxe1,Qd6,Be5,Qc5,a6,Bc6,Bd3,Bxe5,Rxe5,Rd8,Qd1,Qd6,Qe2,d4,cxd4,Qxd4,Bc4,Qd1+,Kh2,Qxe2,Rxe2,Rd4,b3,b5,Re7,bxc4,bxc4,Rxc4,Rxa7,Rc2,Rc7,Ba4', 'a7,Rxc7,a8=Q+', 'https://lichess.org/training/eMw4N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('emwFV', 'Rapid', 'ramindelta', 1851, 'Styx13', 1956, 'e4,e5,d4,exd4,Nf3,d5,Qxd4,Nf6,Bg5,Be7,e5,Ne4,Bxe7,Kxe7,Qe3,Re8,Bd3,Bf5,Bxe4,Bxe4,Qc5+,Kd7,Ng5,Rxe5', 'Nxf7,Qe8,Nxe5+', 'https://lichess.org/training/emwFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eMxXG', 'Rapid', 'Doo7a92a', 1875, 'mr-p90', 1886, 'e4,c5,Nf3,Nc6,Bc4,a6,a4,e6,O-O,g6,c3,Bg7,d4,cxd4,cxd4,d5,exd5,exd5,Re1+,Nge7,Bb3,O-O,Nc3,Be6,Ne2,h6,Nf4,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd3,Nxb3,Qxb3,Rb8,Rxe7,Qxe7,Be3,d4,Nxg6,Qc5,Nxf8,dxe3,Nd7,exf2+', 'Kf1,Qc7,Nxb8', 'https://lichess.org/training/eMxXG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('en0i2', 'Rapid', 'franquicio', 1662, 'ryaghh', 1747, 'd4,d5,Bf4,Nf6,Nc3,h6,Nf3,Bf5,Nb5,Na6,e3,c6,Nc3,Nc7,Bd3,Bxd3,Qxd3,e6,Ne5,Be7,g4,Bd6,g5,Nh5,g6,f6,Nf7,Qd7,Nxd6+,Ke7,Nxb7,Nxf4,exf4,f5,Nc5,Qd6,Qg3,Rab8,O-O-O,Rb6,Rhe1,Rhb8,N3a4,Rb5,Qe3,Kf6,b3,Kxg6,Rg1+,Kh7,Qg3,Rg8,Qg6+,Kh8,Rde1,Qxf4+,Re3,Qxd4,Nxe6,Nxe6,Rxe6,Qf4+,Kb1,Qxa4,Qf7,Qh4,Reg6,Qh5,Rxg7', 'Qxf7,Rxf7,Rxg1+', 'https://lichess.org/training/en0i2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('En2NL', 'Rapid', 'Element000', 1647, 'haikku', 1624, 'e4,e5,Nf3,d6,Nc3,Bg4,Bc4,a5,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/En2NL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eN64G', 'Rapid', 'renezieck', 1653, 'Gouda76', 1963, 'e4,c5,Nf3,d6,Nc3,e6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Bd3,O-O,O-O,h6,Bh4,Qc7,Bg3,a6,e5,dxe5,Nf3,Nc6,Ne4,Nxe4,Bxe4,f6,Nh4,Rd8,Qh5,f5,Bd3,f4,Qg6,Bf6,Qh7+,Kf8,Ng6+,Kf7,Nh8+,Rxh8,Qxh8,fxg3,fxg3,b5', 'Rxf6+,gxf6,Qh7+,Kf8,Qxc7', 'https://lichess.org/training/eN64G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EN6Mo', 'Blitz', 'milwac', 1673, 'BW123', 1633, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,d4,exd4,Nxd4,Bxd4,Qxd4,Bd7,Qxg7,Qf6,Qg3,O-O-O,Nc3,a6,Bd3,h6,Bd2,Nge7,Rfe1,Rhg8,Qe3,Qg6,g3,Bh3,e5,Nxe5,Bxg6,Rxg6,f4,Nf5,Qf2,Ng4,Qa7,Kd7,Qxb7,Nd4,Qxa6', 'Nf3+,Kh1,Nf2#', 'https://lichess.org/training/EN6Mo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EnAVO', 'Blitz', 'NM rafi22', 2420, 'Abhi_OverPowered', 2060, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,c4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,Qd2,a6,f3,Bd7,g4,h5,g5,Ne8,h4,Nxd4,Bxd4,Bxd4,Qxd4,Nc7,f4,Ne6,Qd2,Qb6,Nd5,Qd8,f5,Nc5,Qd4,e5,Qe3,Bc6,Nf6+,Kg7,O-O-O,b5,b4,Nd7,Rxd6,Qc7,c5,a5,Qd2,axb4,Nxd7,Bxe4,Rf1,Rfd8,fxg6,Bxg6,Kb2,Ra3,Qxb4,Re3,Bd1,Rxd7,Rxd7,Qxd7,Bc2,Re2,Rc1,Qd2,Qxd2,Rxd2,c6,Rd8,a3,Rc8,Kb3', 'Rxc6,Bxg6,Rxc1', 'https://lichess.org/training/EnAVO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('endHG', 'Rapid', 'Kazan2502', 2366, 'JoseSilva', 2333, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Nd4,Bc4,Nxf3+,Qxf3,Be7,d3,O-O,Bd2,d6,h3,Bd7,Bb3,a6,g4,c6,g5,Ne8,h4,b5,Rg1,a5,a4,b4,Ne2,Nc7,h5,c5,g6,Be6,gxh7+,Kxh7,Qg3,Rg8,O-O-O,Bxb3,cxb3,Bh4,Qh3,Qe7,f4,Bf6,f5,d5,Rg6,dxe4,dxe4,Rad8,Rdg1,Qd6,Be3,Rh8,R6g3,Kg8,h6,Rh7,Qg2,Ne8,hxg7,Bh4,Rh3,Nf6,Kb1,Qd3+,Ka2,Qxe4,Qxe4,Nxe4,Rg4,Nf2,Bxf2,Bxf2,Rxh7,Kxh7,Rg2,Bh4,Rh2,Kxg7,Rxh4,Kf6,Ng3,Rg8,Rh6+,Kg5,Rh7,f6,Ne4+,Kxf5,Nxc5,Kf4,Rh4+,Ke3,Nd7,Rg6,Kb1,e4,Kc2,f5,Ne5,Rg2+,Kd1,f4,Nc4+,Kd3,Ke1,f3,Ne5+,Ke3,Ng4+,Kf4,Nf2+,Kf5,Nxe4', 'Re2+,Kf1,Rxe4', 'https://lichess.org/training/endHG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eNdJt', 'Blitz', 'Curtn', 2306, 'IM Vuk00', 2598, 'd4,Nf6,c4,e6,Nf3,b6,g3,Ba6,Qc2,Bb7,Bg2,c5,O-O,cxd4,Nxd4,Bxg2,Kxg2,Qc8,Bf4,Be7,Nd2,O-O,b3,Nc6,N2f3,Nxd4,Nxd4,Qb7+,f3,a6,e4,Rfd8,e5,Ne8,Rad1,b5,cxb5,axb5,Rd2,Rdc8,Qe4,Qxe4,fxe4,Bb4,Re2,Rc5,Rc1,Ra5,Rec2,Rxc2+,Rxc2,Kf8,Kf3,f6,exf6,gxf6,Bc1,Ke7,Ne2,Nd6,Nf4,Nf7,Nd3,Bd6,h4,Ra8,g4,Ba3,Bxa3+,Rxa3,Kf4,Ra8,g5,fxg5+,hxg5,Nd6,Rh2,Rf8+,Ke3,Rf7,Ne5,Rg7,Nf3,Nf7,Nd4,Rxg5,Rxh7,Kf6,Nf3,Rg3,Kf2', 'Rxf3+,Kxf3,Ng5+,Ke3,Nxh7', 'https://lichess.org/training/eNdJt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ENdlI', 'Blitz', 'IM LouiVos', 2649, 'AlexKirChess', 2541, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,Bxc6,dxc6,Nbd2,Be6,Qe2,Nd7,Nb3,Bb6,Ng5,Kf8,Nxe6+,fxe6,O-O,Kf7,Qh5+,Kg8,Kh1,h6,f4,exf4,Bxf4,Nf6,Qh3,Qe7,Be5,Nd7,Bc3,Rf8,a4,Kh7,a5,Rxf1+,Rxf1,Rf8,g3,Be3,Kg2,Rxf1,Kxf1,Qf7+,Ke2,Qf2+,Kd1,Ne5,Bxe5,Qg1+,Ke2,Qf2+,Kd1,Qf3+,Ke1,Bf2+,Kd2,Qe3+,Kc3,Be1+,Kc4,b5+,axb6,Qxb6,Bc3', 'Qb5+,Kd4,Bf2#', 'https://lichess.org/training/ENdlI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ENdoG', 'Rapid', 'bandido109', 1680, 'Gordans', 1711, 'd4,d5,Bf4,Nc6,Nf3,e6,e3,Bd6,Bg3,Nf6,Bd3,O-O,O-O,Re8,c4,e5,dxe5,Bxe5,Nxe5,Nxe5,cxd5,Nxd5,Bxe5,Rxe5,Nc3,Nxc3', 'Bxh7+,Kxh7,Qxd8', 'https://lichess.org/training/ENdoG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eNEHb', 'Rapid', 'ahmed_emhade', 1838, 'dolmen77', 1941, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qh5,Nxe4,Be6,Bf4,O-O-O,Neg5,Bg4,h3,Bxf3,Nxf3,Bd6,Bxd6,Rxd6,Qe2,Rhd8,Qc4,g5,Ne5,Nxe5,Rxe5,Qh4,Re7,R6d7,Rae1,g4,Qxf7,Rxe7', 'Rxe7,Qxe7,Qxe7', 'https://lichess.org/training/eNEHb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eNfdP', 'Rapid', 'VitinhoAFK', 1713, 'Santifede05', 1686, 'e4,e5,g3,Nc6,Bg2,Nf6,d3,Bc5,Nf3,O-O,O-O,b6,Be3,Bxe3,fxe3,Bb7,Nc3,Rb8,a3,d6,d4,a5,d5,Ne7,b4,axb4,axb4,c5,b5,Ra8,Qe2,Qd7,Na4,Qc7,c4,Nxe4,Nxe5,Nxg3,hxg3,dxe5,Qh5,g6,Qg5,Nc8,Rf6,Qe7,Bh3,Nd6', 'Rxg6+,hxg6,Qxe7', 'https://lichess.org/training/eNfdP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Enfet', 'Blitz', 'FM HAMHAM22', 2458, 'tournebroches', 2529, 'Nf3,Nc6,e4,d6,Bc4,Nf6,Qe2,Bg4,c3,e6,d4,Be7,Bd3,e5,d5,Nb8,h3,Bh5,g4,Bg6,Nh4,c6,c4,Nfd7,Nf3,Nc5,Nc3,Nbd7,Bc2,a5,Be3,a4,dxc6,bxc6,O-O,Qa5,Qd2,Rb8,Rab1,Nb6,b4,axb3,axb3,Qb4,Rfd1,Ne6,Qe1,Nd7,Bd2,Qb7,b4,h5,Kg2,hxg4,hxg4,Nd4,Nxd4,exd4,Ne2,Ne5,Nxd4,Nxg4,Qe2,Rh2+,Kg3,Bh5,Nf3,Rxf2,Qd3,Qc7,Bf4,Rd8,Rh1,g5', 'Rxh5,gxf4+,Kxg4', 'https://lichess.org/training/Enfet');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('enFPC', 'Blitz', 'ak61', 2490, 'NM FasterPhanter', 2451, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,d4,Be7,dxe5,O-O,Re1,Nc5,Bb3,Nxb3,axb3,d6,exd6,Bxd6,Nc3,h6,h3,Bf5,Be3,Bh7,Qd2,Qf6,Nd5,Qd8,Rad1,Re8,Bxh6,Rxe1+,Rxe1,gxh6,Qxh6,Bg6,c4,Bf8,Qf4,Bg7,Nxc7,Rc8,Nd5,b5,g4,bxc4,bxc4,Bxb2,h4,Bg7,h5,Bd3,Ng5,Qf8,Re3,Bb1,Nb6,Re8', 'Nd7,Rxe3,Nxf8', 'https://lichess.org/training/enFPC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('enfq8', 'Classical', 'ndeshpande', 1759, 'Pignouf', 1952, 'c4,Nf6,Nf3,e6,g3,d5,Bg2,c6,O-O,Bd6,d4,O-O,Nc3,Nbd7,Nd2,e5,dxe5,Bxe5,cxd5,Bxc3,bxc3,cxd5,Nb3,Nb6,Nd4,Re8,Bb2,Nc4,Rb1,Bd7,Ba1,Bc6,Re1,Rc8,Qd3,Ne4,f3,Nc5,Qf5,Re5,Qg4,Ne3,Nxc6,bxc6,Qd4,Qe7,c4,Nc2', 'Qxe5,Qxe5,Bxe5', 'https://lichess.org/training/enfq8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eNj91', 'Blitz', 'Juke_3', 1648, 'Nox4o', 1648, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,c4,Nf6,Nc3,g6,Bg5,Bg7,Qd2,O-O,Bh6,Bg4,Be2,a6,h3,Bd7,Bxg7,Kxg7,O-O-O,c6,dxc6,Nxc6,Qxd6,Qb6,c5,Qa5,Nxe5,Be6,Nxc6,bxc6,Kb1,Rfd8,Qe5,Qb4,Rxd8,Rxd8,g4,Kg8,g5,Nh5,Bxh5,gxh5,Rd1,Rb8,b3,Bxb3,axb3', 'Qxb3+,Ka1,Qb2#', 'https://lichess.org/training/eNj91');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EnJyU', 'Classical', 'franklinbv', 1700, 'syctale', 1699, 'e4,e5,Nf3,Nf6,Bc4,d6,d3,Nc6,Bg5,Be7,Bxf6,Bxf6,Nc3,Be6,Nd5,Nd4,Nxd4,exd4,O-O,c6,Nxf6+,Qxf6,Bxe6,fxe6,f4,O-O,Qd2,Qh6,Qb4,Rxf4,Qxd6,Raf8,Rxf4,Qxf4,e5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/EnJyU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EnKhB', 'Classical', 'AdrianMono', 1851, 'TunnelFlyer', 1847, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Nbd7,Bd3,e5,Nf3,Be7,Qd2,b5,a3,Bb7,a4,bxa4,Rxa4,Ng4,O-O,Nxe3,Qxe3,Nc5,Raa1,Qb6,Rab1,Bc6,b4,Nd7,Qd2,Nf6,b5,axb5,Nxb5,Bxe4,Nxd6+,Qxd6,Bb5+,Bc6', 'Qxd6,Bxd6,Bxc6+', 'https://lichess.org/training/EnKhB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('enLB0', 'Blitz', 'IM Nozdrachev_Leonid', 2344, 'GM Gannikus21', 2613, 'e4,g6,Nf3,Bg7,d4,d6,Be2,Nc6,O-O,Bg4,c3,Nf6,Nbd2,e5,h3,Bxf3,Nxf3,O-O,Bd3,exd4,cxd4,Re8,Re1,Qd7,a3,Re7,Qc2,Rae8,Bg5,h6,Bh4,g5,Bg3,Nh5,Bb5,Nxg3,fxg3,Nxd4,Bxd7,Nxc2,Bxe8,Rxe8,Rac1,Nxe1,Rxe1,Bxb2,Rb1,Bxa3,Rxb7,Bc5+,Kf1,Bb6,Nd2,Kg7,Ke2,d5,Kf3,d4,Ke2,Re5,Kd3,Rb5,g4,Rb2,Rb8,a5,Ra8,Rb4,g3,a4,h4,gxh4,gxh4,Kf6,Re8,a3,Ra8,Ke5,Rxa3,Kf4,Ra8,Kxg4,Rf8,Kxh4,Rxf7,h5,e5,Rb5,e6,Re5', 'Nf3+,Kg3,Nxe5', 'https://lichess.org/training/enLB0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ENLIc', 'Rapid', 'leroy42jenkins', 1951, 'ViorelClaudiu', 1847, 'd4,Nf6,Bf4,c6,e3,d5,Bd3,h6,Nd2,g5,Bg3,Bg7,h4,Qb6,Rb1,g4,c3,Nbd7,Ne2,e6,O-O,c5,f3,gxf3,Nxf3,c4,Bc2,O-O,Ne5,Nh5,Nxd7,Bxd7,Bh2,f5,Nf4,Nxf4,Bxf4,Qd8,g3,b5,a3,a5,Qf3,Ra7,Bd6,Rf7,Bc5,Rb7,Bd1,Bf8,Bxf8,Qxf8,Qf4,Qg7,Bh5,Re7,Kh2,Be8,Be2,b4,axb4,axb4,Rg1,h5,e4,fxe4,g4,Kh8,gxh5,Rf7', 'Rxg7,Rxf4,Rxb7', 'https://lichess.org/training/ENLIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eNlLG', 'Rapid', 'Basilius1981', 1634, 'SuicideByPawn', 1628, 'd4,f5,c4,e6,Nc3,Nf6,Nf3,Be7,b3,d5,e3,c6,Ne5,O-O,Bb2,Bd6,cxd5,cxd5,Nf3,Ne4,Nb5,a6,Nxd6,Qxd6,a3,Nd7,Be2,Ndf6,h3,Nxf2,Kxf2,Ne4+,Ke1', 'Qg3+,Kf1,Qf2#', 'https://lichess.org/training/eNlLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EnmdD', 'Rapid', 'Willsee', 1682, 'salemhassan13191', 1762, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,O-O,Nf3,h6,c3,Nc6,Bb3,a6,Bc2,Nh7,d4,exd4,cxd4,Ba7,Nc3,Re8,O-O,d6,Qd3,Rf8,e5,f5,exf6,Nxf6,Ne4,Bf5,Qc4+,Kh8,Nxf6,Qxf6,Be3,Bxc2,Qxc2,Nxd4,Nxd4,Bxd4,Qxc7,Bxb2,Rab1,Rfc8,Qxb7,Rcb8,Qd5,Be5,Rxb8+,Rxb8,f4,Rb5,fxe5', 'Qxf1+,Kxf1,Rxd5', 'https://lichess.org/training/EnmdD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('enmQm', 'Rapid', 'TheStrangler66', 1665, 'lucasmxz', 1722, 'e4,d6,g3,Nf6,Bg2,g6,d3,Bg7,f4,O-O,Nf3,Nc6,O-O,e5,fxe5,Nxe5,Nbd2,c6,Nxe5,dxe5,Nc4,b5,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/enmQm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ENODf', 'Bullet', 'ftri67', 1753, 'AndreyAAAAA', 1755, 'c4,e5,Nc3,Bc5,Nf3,d6,g3,Nf6,Bg2,O-O,O-O,Nc6,d3,Bg4,Bd2,a6,a3,Rb8,Rb1,Bxf3,Bxf3,Nd4,Bg2,Ba7,b4,c5,bxc5,Bxc5,a4,b6,Be3,Ng4,Bxd4,Bxd4,Nd5,Nf6,Nxf6+,Qxf6,Rb3,Qg5,Qb1,f5,a5,b5,cxb5,axb5,Rxb5,Rxb5,Qxb5,f4,a6,fxg3,hxg3,Qxg3,Qb7,Bxf2+,Rxf2,Qxf2+,Kh1,Rf4,Qb8+,Kf7,Qc7+,Kg6,Qxd6+,Kh5,Qxe5+,g5,Qe8+,Kh4,Qe6,g4', 'Qh6+,Kg3,Qh2#', 'https://lichess.org/training/ENODf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ENOjj', 'Blitz', 'Russell1985', 2325, 'zwer_alsamalosy', 2190, 'e4,e6,d4,b6,Nc3,Bb7,Bd3,Nf6,Nf3,d5,e5,Ne4,O-O,Nxc3,bxc3,Nc6,Be3,Be7,c4,dxc4,Bxc4,Qd7,Qe2,O-O-O,Ba6,h6,a4,Kb8,Bxb7,Kxb7,Rfd1,a5,c4,Nb4,Bd2,g5,Bc3,g4,Nd2,Nc2,Qe4+,Kb8,Qxc2,g3,hxg3,h5,c5,h4,cxb6,cxb6,Rab1,Ka7,gxh4,Rxh4,Nf3,Rh5,d5,Rdh8,g3,exd5,Bd4', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/ENOjj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('enp4i', 'Blitz', 'sergei3liek', 1530, 'Dmi_batalin1', 1540, 'd4,e6,c4,b6,Nc3,Bb7,e4,Bb4,Qb3,Bxc3+,Qxc3,Bxe4,d5,Nf6,dxe6,dxe6,Bg5,Nbd7,Nf3,Bxf3,Qxf3,O-O,O-O-O,Ne5,Bxf6,Qxf6,Qxf6,gxf6,f4,Ng4,Rd3,Rad8', 'Rg3,f5,h3,h5,hxg4', 'https://lichess.org/training/enp4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eNRcS', 'Blitz', 'wcollins260', 1681, 'charikovgyu', 1743, 'd4,d5,Bf4,c5,e3,Nc6,c3,e6,Nf3,Nf6,Bd3,Bd7,Nbd2,Rc8,O-O,cxd4,exd4,Be7,Qc2,g6,h3,O-O,Ne5,Bd6,Ndf3,Qc7,g4,Be8,Kh1,Nd7,Nxd7,Bxd7,Bxd6,Qxd6,Rae1,a6,h4,Qf4,Nh2,b5,h5,Rfe8,hxg6,hxg6,Re3,Nxd4,Qb1,Nc6,Bxg6,fxg6', 'Qxg6+,Kf8,Rf3,Qxf3+,Nxf3', 'https://lichess.org/training/eNRcS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ENrUi', 'Blitz', 'apsanity', 1813, 'kubson1234', 1893, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,Nbd7,e3,Qa5,Nd2,Bb4,Qc2,dxc4,Bxf6,Nxf6,Nxc4,Qc7,Bd3,O-O,O-O,b5,Ne5,Bd6,f4,b4,Ne4,Nxe4,Bxe4,Bxe5,fxe5,Ba6,Rfc1,Rac8,Bxh7+,Kh8,Be4,c5,dxc5,Qxe5,c6,g6,Re1,Kg7,Rac1,Rh8,g3,Rh5,Bg2,Rch8,Qe4,Qxb2,h4,g5,hxg5', 'Rh1+,Bxh1,Qh2#', 'https://lichess.org/training/ENrUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EnS1H', 'Rapid', 'Maybach77', 2240, 'gek76', 2446, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,dxe5,fxe5,Nc6,Be3,Bf5,Nf3,e6,a3,Qd7,Nc3,O-O-O,Be2,Bg4,O-O,f6,exf6,gxf6,b4,Bxf3,Bxf3,Nxc4,Bxc6,Qxc6,Bf2,Rg8,g3,Bh6,b5,Qb6,Qe2,Rxd4,a4,Qd6,Ne4,Qe5,Rfe1,Ne3,Nc3,Re4', 'Nxe4,Qxe4,Bxe3', 'https://lichess.org/training/EnS1H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ent63', 'Blitz', 'FM david_gomez', 2594, 'ScheveningenSea', 2656, 'd4,Nf6,Nf3,e6,e3,d5,Bd3,c5,O-O,Nc6,b3,cxd4,exd4,g6,Bb2,Bg7,c4,O-O,Nbd2,b6,Qe2,Bb7,Rac1,Rc8,Rfd1,Nh5,Qe3,Re8,Ne5,Nxe5,dxe5,dxc4,Nxc4,Qh4,Nd6,Nf4,Bf1,Bh6,Rxc8,Rxc8,Nxb7,Qg4,Qf3,Nh3+,Kh1', 'Qxf3,gxf3,Nxf2+,Kg1,Nxd1', 'https://lichess.org/training/Ent63');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ENTMX', 'Rapid', 'CHarren', 1909, 'hamir', 1861, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Neg5+,Kg8,d3,h6,Nh3,Bxh3,gxh3,Qd7,Qe2,Bd6,Be3,Qxh3,O-O-O,Kh7,Rdg1,Rae8,Rg3,Qd7,Rhg1,Rhg8,Rg6,e4,Nd4,exd3,Qxd3,Re4,Nxc6,bxc6,Bxh6,Qf5,f3,Bf4+,Bxf4,Rxf4,R6g3,Qxd3', 'Rh3+,Rh4,Rxh4#', 'https://lichess.org/training/ENTMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('enU1J', 'Blitz', 'WFM LaraCroft_1', 1925, 'MoastyToasty', 1920, 'd4,d5,Nf3,Nf6,c4,e6,cxd5,exd5,Bg5,Be7,Nc3,Be6,e3,O-O,Bd3,Nbd7,O-O,c6,a3,Rc8,b4,a6,Qb3,Ne4,Bxe7,Qxe7,Rfb1,Nxc3,Qxc3,Bg4,Qc2,Bxf3,gxf3,h6,Kh1,Nf6,Rg1,Kh8,Qd2,Rg8,Bc2,Nd7,Qd3,Nf6,e4,dxe4,fxe4,g6,Rg3,Nh5,Rf3,Rce8,e5,Rg7,Qe3,Kh7,Rg1,Qe6,Rh3,Qd5+', 'Be4,Qxe4+,Qxe4', 'https://lichess.org/training/enU1J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eNVNN', 'Classical', 'Tristanfr', 1857, 'csomkuwar', 1817, 'd4,Nf6,Nf3,e6,e3,d5,c3,c6,Ne5,Bd6,Nd2,Nbd7,Ndf3,Ne4,Bd3,f6,Nxd7,Bxd7,h4,Qc7,Bxe4,dxe4,Nd2,f5,Nc4,O-O-O,Nxd6+,Qxd6,Qa4,Kb8,b4,e5,O-O,exd4,Rd1,d3,Bd2,c5,Qb3,cxb4,Rdb1,Bc6,c4,a5,a3,b6,axb4,a4,Qa3,b5,cxb5,Bxb5,Rc1,Rd7,Rc5,Rb7', 'Rxb5,Rxb5,Qxa4,Qc6,Qa7+', 'https://lichess.org/training/eNVNN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ENwO5', 'Rapid', 'ikalay', 1678, 'CallMeMachine', 1742, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Qe2+,Qe7,Bxd7+,Nxd7,Nc3,d4,Qxe7+,Bxe7,Nd5,O-O-O,d3,Ndf6,Nxf6,Nxf6,Bg5,Rhe8,O-O-O,h6,Bxf6,Bxf6,Rhe1,Re7,Rxe7,Bxe7,Re1,Re8,Nh4', 'Bg5+,Kd1,Rxe1+,Kxe1,Bxh4', 'https://lichess.org/training/ENwO5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ENx4G', 'Rapid', 'rado_27', 1970, 'Fahriapang', 1636, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,O-O,Bg5,h6,Bh4,Be7,h3,d6,O-O,Bd7,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd3,Nh5,Bxe7,Qxe7,Rad1,Nf4,Qxd6,Qg5,g3,Nxh3+,Kg2,Bg4,Rd5,Qd8,Qxd8,Raxd8,Rxc5,b6,Rc7,Rc8,Rxc8,Rxc8,Bd3,Ng5,f3,Bh3+,Kf2,Bxf1,Bxf1,Rd8,Bd3,Nh3+,Kg2,Ng5,f4,Ne6,Kf3,Nd4+,Ke3,g5,fxg5,hxg5,Nd5,Kg7', 'Kxd4', 'https://lichess.org/training/ENx4G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ENYJY', 'Blitz', 'Mat1205', 1511, 'Xaver', 1516, 'e4,e5,Nf3,f5,Nc3,fxe4,Nxe4,d5,Nc3,e4,Ne5,Nf6,Bb5+,c6,Ba4,Bd6,d4,exd3,Nxd3,O-O,O-O,Bf5,Bg5,Nbd7,Bb3,Qc7,f4,Ne4,Nxe4,Bxe4,c4,Nc5,Nxc5,Bxc5+,Kh1,Qd7,cxd5,Bxd5,Rc1,h6,Rxc5,hxg5,Bxd5+,cxd5,Rxd5,Qc6,Rxg5,Rad8,Qb3+,Rf7,Qh3,Qc4,Rg1,Qxf4,Rg4,Qf2,Rh4', 'Qxg1+,Kxg1,Rd1#', 'https://lichess.org/training/ENYJY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('enYsv', 'Classical', 'Deems1', 1736, 'v_clava38', 1805, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,c4,Be7,Nc3,Bf6,Qd3,Ne7,O-O,O-O,Be3,Bxc3,Qxc3,Qc8,Nd2,Ng6,f3,f5,b4,a6,a4,Qe6,b5,Bd7,Bd4,Ne5,f4,Ng6,Bxg7,Rf7,Bd4,fxe4,Rae1,Rxf4,Rxf4,Nxf4,Qg3+,Ng6,Rxe4,Qf5,Rf4', 'Qxf4,Qxf4,Nxf4', 'https://lichess.org/training/enYsv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EnYvL', 'Rapid', 'Knightjudas', 1776, 'converged', 1820, 'd4,d5,c4,e6,e3,f5,a3,Nf6,Nc3,c6,b4,Bd6,Nf3,O-O,c5,Bc7,Ne5,Bd7,a4,Be8,Be2,Nbd7,Nxd7,Bxd7,b5,Bb8,a5,Ne4,Nxe4,fxe4,Qb3,Qf6,f3,Qh4+,Kd2,Bc7,Bb2,exf3,Bxf3,Qf2+,Kd3,Rxf3,gxf3,Qxf3,Rhf1,Qe4+,Ke2,Qg2+,Rf2,Qg4+,Rf3,Rf8,Rf1,Bxh2,bxc6,Bxc6,Qd1,Bb5+,Kf2,Bxf1', 'Rxf8+,Kxf8,Qxg4', 'https://lichess.org/training/EnYvL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EnzaN', 'Blitz', 'CM Squaretaker', 2342, 'swaminathan1947', 1806, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,Qb6,Nf3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Qb4,a3,Qxd2+,Kxd2,Nb6,Rhc1,Bd7,b4,O-O,Nc3,a6,Ke3,Nc4+,Bxc4,dxc4,b5,Na5,bxa6,Nb3,axb7,Rab8,Nd2,Nxc1,Rxc1,Rxb7,Nce4,Bb5,Nd6,Rb6,Rb1,Rfb8,N2e4,c3,Nxc3,Bc4', 'Rxb6,Rxb6,Nxc4', 'https://lichess.org/training/EnzaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eNzqK', 'Classical', 'tigger22', 1672, 'jogo17', 1639, 'e4,d6,d4,g6,Bc4,Bg7,Nf3,e6,O-O,Ne7,a3,c6,Ba2,d5,Nc3,b6,Re1,Bb7,Bg5,h6,Bh4,g5,Bg3,O-O,Ne5,Nd7,exd5,cxd5,Nxd7,Qxd7,Be5,Nf5,Bxg7,Kxg7,Ne2,Ba6,c3,Bxe2,Qxe2,Nh4,Qe5+,Kh7,Bb1+,Ng6,Qf6,Rg8,f4,Rg7,fxg5,hxg5,Qxg5,Qd8,Qh5+,Kg8,Rf1,Rh7,Qf3,Qh4,h3,f5,Bd3,Qh6,Rae1,Nf8,Qg3+,Rg7,Qd6', 'Qxh3,Re2,Qxd3', 'https://lichess.org/training/eNzqK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eNZvS', 'Classical', 'Kamal197e', 1764, 'Reddek', 1788, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nc3,Nf6,Bb5,Bd7,O-O,Be7,Re1,O-O,Bg5,a6,Bxc6,bxc6,e5,Nd5,Nxd5,Bxg5,Nc3,Rb8,b3,c5,Nf3,Be7,Nd5,Bc6,Nxe7+,Qxe7,exd6,Qxd6,Re3,Rbd8,Qxd6,Rxd6,h3,f6,Re7,Rd7,Rae1,Rfd8,Rxd7,Rxd7,Re2,Kf7,Kh2,Rd1,Rd2', 'Bxf3,Rxd1,Bxd1', 'https://lichess.org/training/eNZvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eo1Mf', 'Blitz', 'Everrang', 2204, 'Mole_Creature', 2188, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,Nc3,Nc6,Qa4,d6,e5,dxe5,Nxe5,Bd7,Nxd7,Nxd7,Bb5,Bg7,O-O,O-O,Bxc6,bxc6,Qh4,Bf6,Bg5,e6,Ne4,Bxg5,Nxg5,h5,Rad1,Qe7,g4,Rab8,gxh5,Rb4,c4,Ne5,f4,Rxc4,hxg6,fxg6,Qh6,Rcxf4,Rxf4,Rxf4,Rd8+,Rf8', 'Rxf8+,Qxf8,Qh7#', 'https://lichess.org/training/eo1Mf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EO26a', 'Bullet', 'hollebolle', 1527, 'isarm', 1509, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,c4,Bg7,Nc3,Qa5,Qc2,Nf6,Bd3,d5,exd5,cxd5,cxd5,Nxd5,Bd2,Nxc3,bxc3,O-O,O-O,Be6,c4,Qc5,Be3,Qb4,Rab1,Qa5,Rb5,Qc7,c5,Bd7,c6,Qxc6,Rc5,Qf6,Rc7,Be6,Rc1,Rfc8', 'Rxc8+,Bxc8,Qxc8+,Rxc8,Rxc8+,Bf8,Bh6', 'https://lichess.org/training/EO26a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eO2uY', 'Rapid', 'Baurgan', 1715, 'Lechessboxeur', 1753, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d3,Bf5,Bd2,c6,Nh4,Bg6,Nxg6,hxg6,Qe2,e6,O-O-O,Bb4,Kb1,Na6,Qf3,O-O-O,g3,Nc5,a3,Bxa3,bxa3,Qxa3,Qf4,b5,Na2,a5,Bc1,Qa4,Qf3,Nd5,Be2,b4,d4,b3,dxc5', 'Qxa2#', 'https://lichess.org/training/eO2uY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eO3ga', 'Rapid', 'lyskawson', 1849, 'Mosha07', 1794, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Nc6,Qxe5,Nxe5,d4,Ng6,h4,h5,Nd5,Kd7,Nf3,e6,Ne3,f6,Bd3,N6e7,Bb5+,c6,Bd3,Nd5,c4,Nxe3,Bxe3,Bb4+,Nd2,Ne7,a3,Bd6,Ne4,Bc7,O-O-O,b6,f3,Ba6,g4,Rab8,Nc3,Bc8,gxh5,Rxh5,Rdg1,Nf5,Bxf5,Rxf5,Rxg7+,Kd8,h5,Rxf3,Bd2,e5,dxe5,Bxe5,h6,f5,Rg8+,Kd7,h7,Kc7,h8=Q,Bxh8,Rgxh8,f4,R1h7+,Kd6,Rd8+,Kc5,b4+,Kxc4,Rh4,Rf1+,Kc2', 'Bf5+,Kb2,Rxd8', 'https://lichess.org/training/eO3ga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eo780', 'Blitz', 'rookie_queen', 1547, 'Mishgunn', 1546, 'd4,d5,Nf3,Nc6,c4,e6,Nc3,Nf6,Bg5,Be7,cxd5,Nxd5,Bxe7,Ncxe7,e4,Nxc3,bxc3,O-O,Bc4,c6,O-O,b5,Bb3,h6,Ne5,Bb7,Rc1,Qd6,Qd3,a6,c4,Rad8,Nf3,b4,c5,Qd7,Ne5,Qc7,Rcd1,a5,f4,Ra8,f5,exf5,exf5,Ba6,Bc4,Bxc4,Qxc4,Nd5,Qd3,Rfe8,Rde1,f6,Ng6,Qd7,g4,Rxe1,Rxe1,Re8,Rxe8+,Qxe8,Qa6,Qe1+,Kg2,Ne3+,Kh3,Qf1+', 'Qxf1,Nxf1,Ne7+,Kf7,Nxc6', 'https://lichess.org/training/eo780');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eO7UZ', 'Classical', 'yoava24', 1683, 'KingHeathcliff', 1690, 'e4,e5,Nf3,Nc6,Bb5,Bb4,O-O,Nd4,Nxd4,exd4,c3,Bd6,Qg4,Be5,cxd4,Bxd4,Nc3,c6,Bc4', 'd5,Qg3,dxc4', 'https://lichess.org/training/eO7UZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EO8mM', 'Rapid', 'TheHaleguathor', 2202, 'Ghost-Dog', 2236, 'd4,d6,Bg5,c5,dxc5,Nc6,cxd6,Qa5+,Bd2,Qb6,dxe7,Bxe7,Bc3,Bf6,e4,Bxc3+,Nxc3,Qxb2,Nb5,Qe5,Nd6+,Ke7,Nxc8+,Rxc8,Bd3,Qc3+,Kf1,Nf6,Nf3,Rhd8,Rb1,b6,Qe2,Nb4,e5,Nfd5,e6,Nf4,Qe4,Nbxd3,exf7+,Kxf7,Ng5+,Kf8,Qf5+,Ke7', 'Qf7+,Kd6,Ne4+', 'https://lichess.org/training/EO8mM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eo8nT', 'Classical', 'Eagleflying', 2033, 'mkv5959', 2046, 'd4,e6,c4,c6,Nc3,b6,e4,Bb4,Qc2,h6,Nf3,Ne7,Bd3,Ba6,a3,Bxc3+,Qxc3,d5,O-O,dxc4,Bxc4,Bxc4,Qxc4,O-O,Be3,Nd7,Rac1,Rc8,Qd3,Ng6,Rc3,Rc7,Rfc1,Nb8,Qd2,Kh7,d5,Rd7,Qc2,exd5,exd5,Rxd5,b4,Kg8,Nd4,Rxd4,Bxd4,Qxd4,Rd3,Qf6,Rf3,Qe6,Qc3,Rd8,Rg3,Qd6,h4,Qf6', 'Qxf6,gxf6,h5', 'https://lichess.org/training/Eo8nT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eOaCk', 'Blitz', 'WFM Paulobac', 1976, 'felipechile', 1792, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Bc4,Bxf2+,Kxf2,Qd4+,Ke1,Qxc4,d3,Qd4,h3,Be6,Qe2,Qe5,Be3,O-O-O,Rd1,Qa5,d4,Bxa2', 'Ra1,Nxe4,Rxa2', 'https://lichess.org/training/eOaCk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eoaj7', 'Rapid', 'Abokaldaase92', 2017, 'avelangelotolentino', 2051, 'd4,Nf6,Nc3,b6,e4,Bb7,e5,Nd5,Nxd5,Bxd5,Nf3,e6,Bd3,Be7,O-O,d6,c3,O-O,b3,Nd7,c4,Bb7,d5,exd5,cxd5,dxe5,Re1,f6,Bf5,Bd6,Be6+,Kh8,Nd2,Qe7,Ne4,Nc5,Nxc5,Bxc5,Re4,c6,Rh4,cxd5', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/Eoaj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EObhY', 'Rapid', 'twoschoolfourcool', 1646, 'knish12', 1754, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,h3,b6,Bd3,Bc5,Qg3,O-O,e5,Nd5,Bh6,g6,Bxf8,Qxf8,Ne2,Qe7,f4,Bb7,Rg1,Bxg1,Nxg1,Ncb4,Na3,Qc5,Ne2,Ne3,c3,Nxg2+,Kd2,Nxd3,Qxd3,Rd8,Rf1,c6,Nc4,Qb5,f5,Kg7,fxg6,hxg6,a4,Qd5,Nd4,Ba6,b3,c5', 'Nf5+,gxf5,Qxd5', 'https://lichess.org/training/EObhY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eoc9d', 'Rapid', 'rachid10', 1896, 'Evolutionrus', 1888, 'd4,d5,c4,Nf6,Nc3,c6,cxd5,Nxd5,e4,Nxc3,bxc3,b5,Nf3,Bg4,Bd3,e6,O-O,a6,Bc2,a5,Bf4,Nd7,Re1,Be7,Qd3,a4,Ne5,Nxe5,Bxe5,O-O,h3,Bh5,Re3,Bd6', 'Bxd6,Qxd6,e5', 'https://lichess.org/training/Eoc9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EoDJx', 'Blitz', 'lambda1337', 1590, 'iammeeoh', 1598, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,Nxe5,Nxe5,d4,Bd6,dxe5,Bxe5,Nc3,Bxc3,bxc3,O-O,Be3,d6,f4,Bd7,Be2,Nc6,Rb1,b6,f5,f6,Bc4+,Kh8,Qh5,Ne5,Bb3,Bc6,Rf4,Qe8', 'Qxh7+,Kxh7,Rh4+,Qh5,Rxh5#', 'https://lichess.org/training/EoDJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EoeaI', 'Rapid', 'khaled_ahmad', 1817, 'SolarP', 1871, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bc4,Qb6,Ndb5,Ne5,Be3,Qc6,Bb3,a6,Nd4,Qc7,O-O,b5,f3,Bb7,Nd5,Nxd5,Bxd5,e6,Bb3,Be7,Bf4,Nc4,Bxc4,Qxc4,Nb3,e5,Bg3,O-O,c3,f6,Na5,Qc7,Nxb7,Qxb7,Qc2,Rfd8,a4,bxa4,Rxa4,d5,Rd1,dxe4,Rxd8+,Rxd8,Rxe4,Rb8,Re2,a5,f4,exf4,Bxf4,Bc5+,Kh1,Rd8,h3,Qb5,c4,Qd7,Rd2,Qe7,Rxd8+,Qxd8,Qa4,Qd4,Bh2,Qxb2', 'Qe8+,Bf8,Bd6', 'https://lichess.org/training/EoeaI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eOeVr', 'Rapid', 'Bohdanchornyi', 1911, 'Nismo555', 1669, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,c3,dxc3,Nxc3,c6,Qf3,Qf6,Qxf6,Nxf6,e5,Ng4,d4,Bb4,h3,Nh6,O-O,d5,Bd3,Be6,f4,Nf5,a3,Ba5,Ne2,Bb6,Bxf5,Bxf5,Be3,O-O-O,Ng3,Bd7,b4,a6,Rfc1,f6,a4,fxe5,fxe5,h5,b5,a5,Ne2,g5,Bxg5,Rdf8,h4,Bg4,Bf6,Rxf6,exf6,Bxe2,Kh1,Bxd4,Ra2,Bc4,Ra3,Bxf6,g3,cxb5,axb5,b6,Rf3,Be7,Rf5,a4', 'Rxd5,Bc5,Rxc4', 'https://lichess.org/training/eOeVr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EOeym', 'Rapid', 'igoruiterwijk', 1706, 'Songe', 1746, 'e4,Nf6,Nc3,d5,Nf3,dxe4,Ng5,Qd4,Nb5,Qc5,d4,Qb6,Bf4,Nd5,Nxf7,Kxf7', 'Qh5+,Qg6,Qxd5+', 'https://lichess.org/training/EOeym');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eOfN4', 'Rapid', 'Alexander1234l', 1691, 'mr0000', 1692, 'd4,d5,c4,dxc4,Nc3,e5,e3,exd4,exd4,Nf6,Bxc4,Nc6,Nf3,Bd6,Be3,O-O,O-O,Ng4,h3,Nxe3,fxe3,Qe7,Bb3,h6,Bc2,Bg3,Qd3,g6,Nd5,Qe6,Nxc7,Bxc7,d5,Nb4,dxe6,Nxd3,exf7+,Kg7,Bxd3,Be6,Nh4,g5,Ng6,Rxf7,Rxf7+,Bxf7,Ne7,Bb6,Nf5+,Kf8,Nxh6,Bxe3+,Kf1,Kg7,Nxf7,Kxf7,Re1,Bf4,Be4,Rb8,Rd1,Ke7,Kf2,b6,g3,Be5,Bf5,Rf8,g4,Bxb2,Rd7+,Kf6,Rxa7,Bd4+,Kf3,Re8,a4,Re3+,Kf2', 'Re7+,Kf1,Rxa7', 'https://lichess.org/training/eOfN4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EogiL', 'Rapid', 'nimeni21', 2058, 'sahlsaab', 1865, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Be7,Nf3,Nc6,Bd3,h6,O-O,Nf6,c3,Nxe4,Bxe4,O-O,h3,Bd7,Bf4,f5,Bc2,Bd6,Qd2,Bxf4,Qxf4,Ne7,Rae1,Ng6,Qd2,Qf6,Bb3,Rae8,Ne5,Bc8,f4,b5,Rf2,Kh7,Rfe2,a5,a3,a4,Ba2,Re7,Qd3,Nxf4,Qxb5,Nxe2+,Rxe2,f4,Qxa4,Bb7,Qb4,Ba8,Bb1+,Kg8,Ng6,f3,Nxe7+,Qxe7,Rf2,Qxb4,axb4,fxg2', 'Bh7+,Kxh7,Rxf8', 'https://lichess.org/training/EogiL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eoi4t', 'Classical', 'amateur71', 1723, 'meisterreineke', 1793, 'd4,d5,c4,e6,e3,Nf6,Nf3,c5,cxd5,Nxd5,Nc3,Nc6,Nxd5,exd5,Bb5,c4,Ne5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/eoi4t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eoIoO', 'Rapid', 'asel1951', 2167, 'Mahmud_M_Fathy', 2237, 'e4,c5,Nf3,e6,d3,d5,Nbd2,Nf6,g3,Nc6,Bg2,Be7,O-O,O-O,Re1,dxe4,dxe4,e5,c3,Bg4,Qc2,Rc8,h3,Bh5,b3,b5,Nf1,Bg6,Bg5,b4,Bxf6,Bxf6,Ne3,bxc3,Nd5,Nd4,Qxc3,Bxe4', 'Nxf6+,gxf6,Rxe4', 'https://lichess.org/training/eoIoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EoJgW', 'Rapid', 'Neymar_JR_2011', 2063, 'Calvinjade123', 1982, 'd4,f5,c4,Nf6,Nc3,d6,Nf3,Bd7,Bg5,Ne4,Nxe4,fxe4,Nd2,h6,Bh4,g5,Bg3,Bf5,e3,Nc6,Qh5+,Kd7,a3,Qe8,Qd1,e6,Qc2,Qg6,Rc1,h5,d5,h4,dxc6+,bxc6,Bxd6,cxd6,Qa4,Bg7,Qa6,Rhb8,b4,Qf6,b5,Rb6,bxc6+,Kc7,Qa5,Qb2,Rd1,Bc3,Qa4,Bg4,Be2,Bxe2,Kxe2,Rxc6,Qb5,Qc2,Qb1,Qxb1,Nxb1,Rxc4,Rc1,Rb8,Rxc3', 'Rb2+,Kd1,Rxb1+', 'https://lichess.org/training/EoJgW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EOjHi', 'Rapid', 'Mojtaba1359v', 2066, 'HamidovAZ', 2078, 'e4,e6,d4,d5,exd5,exd5,Nc3,Bd6,Be3,Ne7,Bd3,Nbc6,h3,Be6,Nf3,f6,O-O,Qd7,Nh2,Bxh3', 'Qh5+,g6,Qxh3,Qxh3,gxh3', 'https://lichess.org/training/EOjHi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EOL3x', 'Blitz', 'Paulorezende', 2151, 'Fredim007', 2484, 'd4,Nf6,Nf3,e6,c4,b6,Nc3,Bb4,Bg5,Bb7,e3,O-O,Be2,Bxc3+,bxc3,c5,O-O,Nc6,a4,Na5,d5,d6,e4,h6,Bh4,e5,Bd3,Bc8,h3,Bd7,Nd2,g5,Bg3,Kg7,h4,Rh8,hxg5,hxg5,Nf3,Nh5,Bh2,g4,Nd2,Qh4,Bg3,Qh1+,Kxh1', 'Nxg3+,Kg1,Rh1#', 'https://lichess.org/training/EOL3x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EOlLI', 'Classical', 'dimitris6631', 1786, 'lapos', 1812, 'e4,c6,d3,d5,Nd2,dxe4,dxe4,e5,Ngf3,f6,Bc4,Ne7,Nh4,Ng6', 'Qh5,Bg4,Qxg4', 'https://lichess.org/training/EOlLI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eOmGN', 'Rapid', 'RabbiGambit', 1905, 'IRAQY', 2014, 'e4,e5,d4,exd4,c3,c5,Nf3,Nc6,cxd4,cxd4,Nxd4,Bb4+,Nc3,Qa5,Nxc6,Bxc3+,bxc3,Qxc3+,Bd2,Qxc6,Bd3,Nf6,O-O,O-O,e5,Ng4,Qxg4,d5,Qh4,h6,Rac1,Qe6,f4,Qb6+,Kh1,Qd4,Qg3,f6,exf6,Qxf6,Bc3,d4,Bxd4,Qxd4,Qg6,Rf6,Qe8+,Rf8,Bc4+,Qxc4,Qxf8+,Kxf8,Rxc4,Be6,Rc7,Bd5,Rd1,Bc6,Rd6,Re8,h3,Kg8,Rg6,Re1+,Kh2,Re2,Rgxg7+,Kf8,f5,Rf2,Rcf7+,Ke8,Rf6,Rxa2,Rxh6,Kf8,Rc7,Rxg2+,Kh1,Bd5,Rh8+', 'Rg8+,Kh2,Rxh8', 'https://lichess.org/training/eOmGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EOMz3', 'Classical', 'salemtn', 1933, 'AbouChakra', 1984, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,c4,Bb4+,Nc3,Nf6,f3,O-O,Be2,Re8,a3,Bc5,Nxc6,bxc6,b4,Be7,c5,d5,cxd6,Bxd6,O-O,Be5,Qc2', 'Qd4+,Kh1,Qxc3,Qxc3,Bxc3', 'https://lichess.org/training/EOMz3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eonIo', 'Rapid', 'Cajty', 1800, 'STJukess', 1806, 'e4,e5,Bc4,d6,Nf3,f5,d3,Be7,O-O,f4,c3,g5,h3,h5,Nh2,Nh6,Qxh5+,Kd7,Qd1,c6,a4,Kc7,f3,Nd7,Ng4,Nf6,Qe2,Ne8,d4,Ng7,Nd2,Nh5,Qf2,Ng3,Rd1,Bd7,Nf1,Bxg4,Nxg3,fxg3,Qxg3,Bd7,dxe5,dxe5,Qxe5+,Kc8,Be6,Qb6+,Kh1,Rd8,Bxd7+,Rxd7,Qh8+,Kc7,Rxd7+,Kxd7,Qxh6,Qf2,Bxg5,Rg8,h4,Bxg5,Qh7+,Be7,Qxg8', 'Qxh4+,Kg1,Bc5+,Kf1,Qf2#', 'https://lichess.org/training/eonIo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eONRD', 'Blitz', 'Migue_Carrillo', 1714, 'Pav88', 1798, 'e4,e5,Nf3,d6,Bc4,Qf6,O-O,Be7,d3,Qg6,Kh1,h5,g3,Bg4,Nbd2,h4,Qe1,hxg3,fxg3,Qh5,Qf2,Nf6,Nb3,Bxf3+,Qxf3', 'Qxh2#', 'https://lichess.org/training/eONRD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eOON9', 'Rapid', 'Harold1991', 1996, 'pyep', 1976, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bd3,Be7,O-O,O-O,f3,Nc6,Be3,Qb6,Na4,Qb4,c3,Qa5,b4,Qe5,f4,Qh5,Qd2,Ng4,h3,Nxe3,Qxe3,Nxd4,cxd4,b6,f5,exf5,exf5,Bg5,Qe4,Rb8,Rae1,Bb7,d5,Bf6,Rf4,Be5,Rh4,Qg5,f6,g6,Rf1,Bxf6,Rff4,Bxd5,Qe2,Rfe8,Qf2,Re1+,Bf1,Re6,Nc3,Bxc3,Rxf7,Qxh4,Qxh4,Kxf7,Bd3,Re1+,Kf2,Rf8,Qxh7+,Ke8+,Kg3,Be5+,Kg4,Be6+,Kg5,Bf4+,Kh4,g5+,Kh5,Bf7+,Bg6,Re5,Bxf7+,Rxf7,Qg6,Kf8,Qxd6+,Kg8,Qd8+,Kg7,Qd4,Rf6,Kg4,Bh2,g3,Rfe6,Qb2,Kg6,Qxh2,Rf5,h4', 'Re4+,Kh3,g4+', 'https://lichess.org/training/eOON9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EoONN', 'Rapid', 'the_holy_drinker', 1960, 'ZeroBase', 1986, 'e4,c5,Nf3,Nc6,c3,g6,d4,cxd4,cxd4,Bg7,Bc4,e6,d5,exd5,Bxd5,Nge7,Bg5,Qa5+,Nc3,Bxc3+,bxc3,Qxc3+,Bd2,Qc5,Rc1,Qd6,Bc3,Nxd5,Bxh8,Qb4+,Nd2,Nf4,O-O,Qe7,Nf3,f6,e5,Qf8,Bxf6,Ne6,Rc3,Qb4,Rb3,Qg4,Qd3', 'Nf4,Nh4,Nxd3', 'https://lichess.org/training/EoONN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eooTB', 'Rapid', 'sivvaaa', 1619, 'Apoline', 1744, 'e4,e5,Nf3,Nc6,Bb5,Bd6,d4,a6,Bxc6,bxc6,dxe5,Bc5,Bg5,f6,exf6,gxf6,Bh4,Qe7,O-O,Bb7,e5,O-O-O,Re1,Qg7,Nc3,Rf8,Ne4,Be7,Qd4,fxe5,Qxe5', 'Qxe5,Nxe5,Bxh4', 'https://lichess.org/training/eooTB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eOQ64', 'Rapid', 'lasticot22', 1797, 'anakmedan2225', 1952, 'e4,e5,f4,Nc6,Nf3,Bc5,c3,d6,d4,exd4,Nxd4,Nf6,Nd2,Nxd4,cxd4,Bxd4', 'Qa4+,Bd7,Qxd4', 'https://lichess.org/training/eOQ64');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EoSiI', 'Rapid', 'marqeuz', 1926, 'AllanKiipli', 1760, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d4,exd4,Nxd4,Nxd4,Qxd4,c6,Bc4,d6,Bg5,Qc7,Bxe7,Qxe7,Nc3,Be6,O-O-O,O-O-O,Bxe6+,fxe6,Qxa7,Kc7,Qa5+,Kb8,e5,d5,Ne4,Qc7,Qxc7+,Kxc7,Ng5,Re8,f4,Re7,Rd4,h6,Nf3,g6,a3,Bg7,Nh4,Ra8,Nxg6,Rf7,g3,c5,Rd2,b5,Rhd1,Kc6,Kb1,Rfa7,Rd3,b4,Ka2,c4,Rf3,Bf8,Nxf8,Rxf8,c3,bxa3,b3,cxb3+,Kxb3,Rb8+,Ka2,Rb2+,Ka1,Rxh2,c4,Rd7,Rxa3,dxc4,Rxd7,Kxd7,Rc3,Rg2,Kb1,Kc6,Kc1,Kd5,Kd1,Kd4,Rf3,c3,Kc1,h5,Kd1,Rd2+,Kc1,Rd3', 'Rxd3+,Kxd3,f5,exf5,e6', 'https://lichess.org/training/EoSiI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eOsKx', 'Blitz', 'ducmanh0612', 1604, 'MiffyJones', 1585, 'e4,e6,d4,b6,Nc3,Bb7,Bd3,a6,Nf3,h6,O-O,Ne7,Re1,Nbc6,a3,Ng6,Ne2,Be7,c3,Nh4,Nxh4,Bxh4,Nf4,Bg5,Qe2,d6,Nh3,Bxc1,Raxc1,O-O,Qc2,e5,dxe5,Nxe5,f4,Nxd3,Qxd3,Bc8,Re3,Qh4,Rf1,Bxh3,Rxh3,Qg4,Rff3,c5,f5,Qg5,b4,cxb4,axb4,Rfd8,Qd4,f6,Rfg3,Qc1+,Kf2,Qc2+,Kf3,Rac8,Rxh6,Rxc3+,Kf4,Rxg3', 'Qd5+,Kf8,Rh8+,Ke7,Qe6#', 'https://lichess.org/training/eOsKx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eOUOX', 'Rapid', 'hadikhaksary', 1877, 'jimmij', 2002, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Kf1,Bf8,Nf3,f6,e5,Nc6,Nh4,Qe7,Qh5+,g6', 'Nxg6,hxg6,Qxh8', 'https://lichess.org/training/eOUOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eoUvP', 'Classical', 'Rafiru13', 1676, 'sarma21', 1614, 'e4,d5,Nc3,dxe4,Nxe4,Qd4,Qe2,Nc6,Nf3,Qd8,c3,Bg4,h3,Bh5,d4,Qd7,Be3,e5,O-O-O,exd4,Nxd4,Bxe2,Bxe2,Nxd4,Bxd4,Qe6,Bg4,Qxa2,Be5,Rd8,Rxd8+,Kxd8,Rd1+,Bd6,Nxd6,cxd6,Rxd6+,Ke7,Rd7+,Ke8,Bxg7,h5,Bxh8,hxg4,Rxb7,gxh3,gxh3,Ne7,Bf6,Qe6', 'Rxe7+,Qxe7,Bxe7', 'https://lichess.org/training/eoUvP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EovGb', 'Rapid', 'salman97', 1651, 'dude_being_dude', 1655, 'e4,e5,c3,Nf6,Nf3,Bc5,Bc4,c6,d3,d5,exd5,cxd5,Bb3,Nc6,O-O,O-O,d4,exd4,cxd4,Bb4,Bd2,a5,Bxb4,axb4,Nbd2,Bg4,h3,Bh5,Rc1,Nxd4,Nxd4,Bxd1,Rfxd1,Rc8,Nf5,g6,Rxc8,Qd7,Rxf8+,Kxf8,Ng3,h5,Nf3,Kg7,Nf1,Kh6,Ne3,Qb5,Nxd5,Nxd5,Bxd5,b3,Bxb3,h4,Nxh4,f6,Rd5,Qe8,Nf3,b5,Rd6,Kg7,Nh4', 'Qe1+,Kh2,Qe5+,g3,Qxd6', 'https://lichess.org/training/EovGb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eOviu', 'Rapid', 'mandraca33', 1822, 'radja1975', 2095, 'e4,d5,e5,c5,Nf3,Nc6,Bb5,Bg4,Bxc6+,bxc6,O-O,e6,h3,Bxf3,Qxf3,Ne7,Nc3,Ng6,Na4,Nxe5,Qe3,Nd7,b3,Be7,Bb2,O-O,Qg3,Bf6,Ba3,c4,Bxf8,Nxf8,bxc4,Qa5,Nc3,Ng6,Rab1,e5,f4,Nxf4,Rxf4,exf4,Qxf4,Bxc3', 'Rb8+,Qd8,Rxd8+', 'https://lichess.org/training/eOviu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EovKE', 'Rapid', 'sisyphos33', 2321, 'Anarchist__Bigbang', 1917, 'e4,e6,d4,c6,c4,d5,cxd5,cxd5,e5,Nc6,Nc3,Qb6,Nf3,Bd7,Be2,Nge7,O-O,Nf5,Na4,Qa5,Bd2,Bb4,Bxb4,Qxb4,a3,Qe7,b4,b6,Nc3,O-O-O,Rc1,Kb8,Nb5,h5,Qa4,Be8,Rfd1,Qd7,Rxc6,Qxc6,Qxa7+,Kc8,Nd6+,Nxd6,exd6,Rxd6,Ne5,Qc2,Qa8+,Kc7,Bf3,f6,Nd3,Qc6', 'Rc1,Qxc1+,Nxc1', 'https://lichess.org/training/EovKE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eOwAv', 'Rapid', 'sumukh_hs', 1896, 'arras2016', 1849, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,O-O,Bxc3,bxc3,d5,exd5,cxd5,Bb5+,Bd7,Re1+,Kf8,Ba3+,Kg8,Bd3,g6,c4,d4,Bb2,c5,c3,dxc3,Bxc3,Be6,Qf3,Kg7,Rad1,Qe7,Re4,g5,Rde1,Rhe8,h4,Qd8,hxg5,hxg5,Qg3,Kf8,Re5,Ng4,Rxc5,a5,Bc2,f6,Qf3,Kg8,Qe4,f5,Qc6,Rc8,Qb5,Rxc5,Qxc5,Qb8,g3,Qd8,Qxa5,Qd7,Ba4', 'Qh7,Qc5,Qh2+', 'https://lichess.org/training/eOwAv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EOwFt', 'Rapid', 'chesslord98', 1745, 'Amauribbb', 1744, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,Nf6,N1c3,a6,Na3,Be7,Be2,O-O,Nc2,Be6,Be3,Rc8,f3,Qa5,O-O,Nb4,Nxb4,Qxb4,a3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/EOwFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eoXYo', 'Rapid', 'seranne', 1705, 'maxicitrouille', 1689, 'e4,d6,d4,Nd7,Nf3,e5,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Nc3,Bb4,Bd2,Bxc3,Bxc3,f6,O-O-O+,Ke7,Bc4,Be6', 'Bb4+,Ke8,Bxe6', 'https://lichess.org/training/eoXYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eOYTc', 'Rapid', 'yusuftu59', 1892, 'NightFury1', 1843, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,Nc6,h3,e6,a3,Be7,O-O,O-O,Nc3,a6,Ba2,b5,Be3,b4,axb4,Nxb4,Ne2,a5,c3,Nc6,Bc4,Ba6,Bxa6,Rxa6,d4,cxd4,Nexd4,Qc7,Qd3,Raa8,Nxc6,Qxc6,e5,Nd5,exd6,Bxd6,Bd4,Rfd8,Ng5,h6,Qh7+,Kf8,Nf3,f6,Nh4,Nf4,b4,axb4,Rxa8,Rxa8,cxb4', 'Ne2+,Kh1,Nxd4', 'https://lichess.org/training/eOYTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EoZnm', 'Blitz', 'Tiberius_NN', 2645, 'IM abrakadabra02', 2645, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd2,d5,Nf3,b6,cxd5,exd5,Rc1,Ba6,Bxa6,Nxa6,Ne5,c5,O-O,c4,b3,Bxc3,Bxc3,b5,bxc4,dxc4,Rb1,Qd5,f3,Rab8,e4,Qd6,Qe2,Nd7,Rfd1,Nxe5,dxe5,Qc5+,Bd4,Qc7,f4,Nc5,Rbc1,Rfd8,Qe3,Rdc8', 'Bxc5,Qxc5,Rd8+,Rxd8,Qxc5', 'https://lichess.org/training/EoZnm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eoZNs', 'Blitz', 'DylWolfe', 1690, 'amatar83', 1715, 'd4,Nf6,c4,e5,dxe5,Ng4,Nc3,Nxe5,Bf4,Nxc4,Qb3,d5,e4,Na5,Qb5+,Nac6,exd5,a6,Qe2+,Ne7,Bg5,f6,Bh4,h5,h3,Nd7,Nf3,g5,Bg3,h4,Bh2,Nb6,Qd2,Nbxd5,Nxd5,Qxd5,Qxd5,Nxd5,Bc4,c6,O-O,b5,Bxd5,cxd5,Rfe1+,Kd8,Nd4,Bb4,Red1,Bb7,a3,Ba5,b4,Bb6,Ne6+,Ke7,Nd4,Rac8,g3,Rc4,Nf5+,Ke6,g4,Rc2', 'Re1+,Kd7,Re7+,Kd8,Rxb7', 'https://lichess.org/training/eoZNs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ep083', 'Rapid', 'powerrange', 1670, 'talat', 1675, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,Bxg3,hxg3,g5,Bd3,h6,Nf3,f5,Ne5,Nf6,f4,g4,c4,Nbd7,Qa4,c6,Nc3,Nxe5,fxe5,Nd7,cxd5,exd5,Bxf5,Nb6,Bg6+,Kf8,Qc2,Qg5,Nd1,Kg7,Bd3,Rf8,a4,Bf5,a5,Bxd3,Qxd3,Nc4,b3,Nxe5,dxe5,Qxe5,Rc1', 'Qxg3+,Kd2,Qxg2+,Qe2,Qxh1', 'https://lichess.org/training/ep083');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eP0NG', 'Classical', 'Francesco80', 1690, 'picarge', 1691, 'd4,d5,Nf3,c6,e3,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,Bd3,Bxc3,Bxc3,Nbd7,O-O,Re8,Re1,a6,a4,Qc7,Qd2,h6,c5,b6,cxb6,Nxb6,Ba5,Qb7,e4,dxe4,Bxe4,Nxe4,Rxe4,Nd5,Ne5,Rb8,Rb1,Qb3,Nxc6,Rb7,Rg4,Kh8,Ne5,Nf6,Rg3,Qxa4,Nxf7+,Rxf7,Rf3,Qd7,Bc3,Bb7,Rh3,Ne4,Qe1,Ref8,f3,Ng5,Rg3,Bd5,Bd2,Nh7,Qe2,Qb7,b4,Bxf3,gxf3,Rxf3,Rxf3,Qxf3,Qxf3,Rxf3,Ra1,Rb3,Rxa6,Rb1+,Kg2,Rb2', 'Ra8+,Nf8,Rxf8+,Kh7,Rf2', 'https://lichess.org/training/eP0NG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ep0ut', 'Rapid', 'Spammer27', 1831, 'schachNder', 1850, 'c4,f5,d4,g6,b4,Bg7,Bb2,Nc6,Nf3,Nxb4,Qb3,c5', 'dxc5,Bxb2,Qxb2,Qa5,Qxh8', 'https://lichess.org/training/ep0ut');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ep1Nm', 'Rapid', 'fnua', 1870, 'predrag66', 1917, 'e4,d5,exd5,Nf6,Bc4,a6,Qf3,b5,Bb3,Bb7,Nc3,b4,Ba4+,Nbd7,Ne4,Bxd5', 'Nxf6+,exf6,Qxd5', 'https://lichess.org/training/Ep1Nm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ep22O', 'Rapid', 'run22', 1614, 'Yaisa', 1656, 'd4,e6,Bf4,a6,e3,g6,Nf3,Bg7,Bd3,Nc6,c3,Nf6,Qc2,Ng4,Nbd2,d6,Nb3,b5,O-O-O,Nxf2,Qxf2,b4,c4,a5,Rhe1,a4,Nbd2,a3,b3,O-O,h4,e5,dxe5', 'dxe5,Be4,exf4', 'https://lichess.org/training/Ep22O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eP529', 'Blitz', 'munace', 1891, 'ozgurvlg', 1536, 'd4,d5,Nf3,Nc6,Bf4,Bf5,e3,f6,c4,e6,cxd5,exd5,Nc3,Bd6,Bxd6,Qxd6,Bb5,a6,Bxc6+,Qxc6,Rc1,O-O-O,O-O,Nh6,h3,g5,b3,g4,hxg4,Bxg4,Na4,Qe6,Nc5,Qf5,Nd3,Nf7,Nf4,h5,Re1,h4,Kf1,h3,gxh3,Bxh3+,Ke2,Bg4,Kd2,Nd6,Rg1,Ne4+,Ke2,Bxf3+,Kxf3,Rh3+,Ke2,c6,Nxh3,Qxh3,b4,Qh5+,f3', 'Qh2+,Kd3,Nf2+,Kc3,Nxd1+', 'https://lichess.org/training/eP529');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ep5GZ', 'Rapid', 'diegovignatti', 1638, 'blas175', 2015, 'e4,e5,Nf3,d6,d4,Bg4,Be2,exd4,Nxd4,Bxe2,Qxe2,Be7,O-O,Nf6,Nc3,O-O,Bg5,h6,Bh4,Nbd7,Kh1,Kh8,f4,Ng8,Bxe7,Qxe7,Nf5,Qe6,Nd5,c6,Nc7,Qg6,Nxa8,Rxa8,a3,Re8,Rad1', 'Qxf5,exf5,Rxe2', 'https://lichess.org/training/ep5GZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EP5th', 'Rapid', 'Alkostar', 1821, 'FoodOfTheGods', 2025, 'e4,c5,b3,Nc6,Bb2,d6,Nf3,Nf6,Nc3,Bg4,Be2,e5,d3,Bxf3,Bxf3,Be7,Ne2,O-O,Ng3,g6,h4,Nd4,Bxd4,cxd4,Qd2,Re8,h5,d5,hxg6,fxg6,exd5,Nxd5,Bxd5+,Qxd5,Qh6,Bb4+,Ke2,Re7,Ne4,Rf8,Qg5,Ref7,Rh6,Rf4,Rxg6+,Kh8,Rh1,R4f7,Nf6,Qd8,Qxe5,Rxf6', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/EP5th');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eP5wo', 'Rapid', 'hinterland', 1801, 'DTST', 1926, 'e4,e5,f4,exf4,Nf3,Nc6,d4,d5,exd5,Qxd5,Nc3,Bb4,Bd2,Bxc3,Bxc3,Bg4,Be2,O-O-O,O-O,Nf6,Ne5,Bxe2,Qxe2,Nxd4,Bxd4,Qxd4+,Kh1,Rhe8,Rad1,Qxe5,Rxd8+,Kxd8,Rd1+,Kc8,Qd2,Ne4', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/eP5wo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eP7cx', 'Blitz', 'GM Arm-Akiba', 2697, 'GM medine2007', 2688, 'd4,f5,c4,Nf6,Nf3,b6,Nc3,Bb7,d5,g6,Bf4,Bg7,e3,O-O,Be2,Na6,O-O,Nc5,Qc2,a5,Rad1,d6,Nd4,Qd7,Bf3,Rae8,Ne6,Nxe6,dxe6,Qc8,Bxb7,Qxb7,Nd5,c6,Nxf6+,Rxf6,e4,Rxe6,exf5,Rf6,Rfe1,Qd7,Qb3,Rxf5,Bg3,c5,Qxb6,a4,b4,axb3,axb3,Bc3,Re3,Bd4,Rxd4,cxd4,Qxd4,Ra8,h3,Qb7,Kh2,Ra3,Qb2,Rfa5,Qe2,Ra7,b4,Ra2,Qg4,Qd7,Qd4,Ra1,b5,Rc1,b6,Raa1,Bf4,Rh1+,Kg3,Rxh3+,gxh3,Rg1+,Kf3,Qxh3+,Bg3,Qh1+,Ke2', 'Re1+,Kd3,Rd1+,Kc3,Rxd4', 'https://lichess.org/training/eP7cx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EP9fm', 'Classical', 'bma7', 1820, 'jp62', 1843, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,cxd4,cxd4,Bd7,Bc2,Nb4,O-O,Nxc2,Qxc2,Rc8,Nc3,Ne7,g4,Nc6,Be3,Be7,Kh1,h6,Rg1,g5,Rg3,Nb4,Qb1,Kd8,a3,Na6,Qc2,Kc7,Nxd5+,Kb8,Qxc8+,Rxc8,Nxb6,axb6,Rgg1,Rc2,b4,Bc6,Kg2,Be4,Kg3,Nc7,Rgc1,Nd5,Rxc2,Bxc2,Rc1,Bg6,Nd2,b5,Nb3,b6,Kf3,Kb7,Nd2,f5,gxf5,exf5,Nf1,f4,Bd2,Bf5,Kg2,g4,f3,h5,e6,Bd3,fxg4,hxg4,h3,Be4+,Kg1,g3,Re1,Bd3,Kg2,Bh4,Re5,Bc4,Rh5,Be7,Nxg3,fxg3,Kxg3,Bd6+,Kf3,Nf6,Rh6,Bd5+,Ke2,Ne4,Rh7+,Kc6,e7,Kd7,Rg7,Nxd2,Kxd2,Bxe7,h4,Ke6,h5,Bf6,Rg6,Be4,Rg1,Kf7,h6,Bxd4', 'Rg4,Bf6,Rxe4', 'https://lichess.org/training/EP9fm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EpaD2', 'Rapid', 'aaelheavy', 1653, 'Hossamm9', 1669, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nc6,Bb5,a6,Bxc6+,bxc6,Nf3,Bg4,Qd3,e6,Ne5,Bf5,Qf3,Qb6,Be3,Bd6,Na4', 'Qb4+,c3,Qxa4', 'https://lichess.org/training/EpaD2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('epaUU', 'Blitz', 'NM ppa-pro', 2065, 'SuperJewSauce', 2043, 'd4,Nf6,c4,e6,g3,Bb4+,Nd2,Nc6,Bg2,Nxd4,Nf3,Nxf3+,Bxf3,O-O,O-O,d5,a3,Be7,b4,c6,Bb2,Re8,Qb3,b6,Rfd1,Qc7,Rac1,Qb8,e4,dxe4,Nxe4,Nxe4,Bxe4,Bb7,c5,bxc5,bxc5,Qc7,Qf3,Rad8,Bd4,Bf8,Rb1,Re7,h4,Ba8,h5,Red7,Be3,Rxd1+,Rxd1,Rxd1+,Qxd1,Qe5,Qc2,Qxh5,a4,Bb7,a5,g6,a6,Bxa6,Bxc6,Qf5,Be4,Qe5,c6,Qc7,Bf4,Bd6,Bxd6,Qxd6,c7,Bc8,Qc4,Kf8,Bc2,Ke7', 'Qh4+,Kd7,Qd8+', 'https://lichess.org/training/epaUU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ePBS3', 'Rapid', 'kamaleon2016', 1698, 'Chesmax', 1619, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,O-O,O-O,a3,a5,d3,h6,Nh4,Ne7,Nf5,Nxf5,exf5,d5,Ba2,Bxf5,Be3,d4,Bxh6,gxh6,Ne4,Nxe4,dxe4,Bxe4,Qg4+,Bg6', 'Qxg6+,Kh8,Qxh6+', 'https://lichess.org/training/ePBS3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EPdKf', 'Rapid', 'pete5793', 1875, 'manhphuc2107', 1729, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Bb5,Ne7,d4,c4,Re1,Be6,Ng5,Qc8,Nxe6,fxe6,Qg4,a6,Bxc6+,Nxc6,Qxe6+,Qxe6,Rxe6+,Kd7,Re1', 'Nxd4,c3,Nc2', 'https://lichess.org/training/EPdKf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('epEKM', 'Blitz', 'rcrawle', 1693, 'McRembo', 1693, 'd4,d5,c4,Nf6,Nc3,dxc4,Nf3,e6,e4,Be7,Bxc4,O-O,Bf4,a6,a4,c5,d5,exd5,exd5,Bd6,Bg5,Re8+,Ne2,h6,Bh4,g5,Bg3,Bxg3,hxg3,Kg7,O-O,Bg4,Nc3,Bxf3,Qxf3,Nbd7,Rae1,Ne5,Qe2,Nxc4,Qxc4,Rb8,Qxc5,Rc8,Qd4,Kg6,f4,Nh5,fxg5,Qxg5,Rxe8,Rxe8,Qd3+,f5,d6,Nxg3,d7,Rd8,Qd6+,Kh5,Rf3,Qc1+,Kh2', 'Qh1+,Kxg3,Qh4#', 'https://lichess.org/training/epEKM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Epfc7', 'Blitz', 'VexedYeoman', 2242, 'EeroSinkkonen', 1851, 'd3,d5,c4,c6,Nc3,dxc4,dxc4,Bf5,Qxd8+,Kxd8,Nf3,e6,Bf4,Bb4,e4,Bg6,O-O-O+,Ke7,Bd3,Nd7,Kc2,Nc5,a3,Bxc3,Kxc3,Nxd3,Rxd3,Nf6,Rhd1,Nxe4+,Kb3,Nxf2,Rd7+,Kf6,R1d2,Ne4,R2d4,Nc5+,Kb4,Nxd7', 'Bg5+,Kf5,Rf4#', 'https://lichess.org/training/Epfc7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EpffC', 'Rapid', 'Ikechukwu', 1862, 'camby', 1923, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d5,exd5,Nxd5,Qb3,Na5,Qb5+,c6,Qc5,b6,Qa3,Nxc4,Nxc4,Be6,Nd6+,Kd7,Ne5+,Kc7,Ndxf7,Bxf7,Qg3,Qe7,O-O,Kb7,Rfe1,Qf6,Rac1,Rac8,Qa3,Rhd8,Nc4,Nf4', 'Re7+,Qxe7,Qxe7+', 'https://lichess.org/training/EpffC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ePfRA', 'Blitz', 'Keyronn', 1808, 'Thecorz', 1756, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Nd5,c4,Nb6,Nc3,Be7,Bd3,O-O,O-O,Ba6,b3,d5,exd6,cxd6,Qh5,g6,Qg4,Bf6,Bb2,Nd7,Qg3,Nc5,Bc2,d5,Rfd1,d4,Rab1,Qb6,Ne2,Rad8,Nxd4,Ne4,Bxe4,Bxd4,Bxd4,Rxd4,Rxd4,Qxd4,Bxc6,Rd8,Bd5,Bb7,Qf3,Bxd5,cxd5,Rxd5,h3,Rf5,Qa8+,Kg7,Rf1,Ra5,a4,Qb6,Qf3,Rf5,Qc3+,Kg8,Re1,Qxf2+,Kh1,h5', 'Re8+,Kh7,Qh8#', 'https://lichess.org/training/ePfRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EPfSZ', 'Classical', 'peskie', 1623, 'wilimorales', 1616, 'e4,e5,Nf3,Qf6,c4,Bc5,Nc3,d6,g3,Bg4,Bg2,Nc6,Nd5,Qd8,h3,Bh5,g4,Bg6,Qe2,Nf6,d3,Nxd5,cxd5,Nd4,Nxd4,Bxd4,h4,h5,g5,f6,Rb1,fxg5,Bxg5,Qd7,Bh3,Qa4,b3,Bc3+,Kd1,Qd4,Be3,Qb4,Be6,Rf8,Rg1,Bxe4,dxe4,Qxe4,Rc1,Ba5,Qxh5+,g6,Rxg6', 'Qd3+,Bd2,Qxd2#', 'https://lichess.org/training/EPfSZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EpG4K', 'Blitz', 'weijiah', 1903, 'jmarquez0001', 1885, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,f3,a6,a4,Nf6,Bc4,O-O,O-O,Na5,Ba2,Qb6,Nf5,Qxb2,Nxg7,Qxc3,Bh6,Bd7,Qd3,Qxd3,cxd3,Rfc8,Rac1,Nc6,f4,Ng4,Nf5,gxf5,Bg5,Nd4,Rxc8+,Rxc8,Bxe7,fxe4,dxe4,Ne3,Re1,Nec2,Rd1,Bxa4,Rd3,Bb5', 'Rg3+,Kh8,Bf6#', 'https://lichess.org/training/EpG4K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EpGbc', 'Blitz', 'vo_bo_01', 1562, 'Po1aris', 1526, 'b3,e5,Bb2,Nc6,d3,d6,Nd2,g6,g3,Bg7,Bg2,Be6,e3,Nf6,Ne2,O-O,Nf3,Bg4,h3,Bxf3,Bxf3,d5,Qd2,e4,Bg2,exd3,Qxd3,Re8,O-O-O,Nb4,Qb5,Nxa2+,Kb1,a6,Qa4,b5,Qxa2,a5,Nd4,b4,c3,c5,Nc6,Qd6,Nxa5,Qa6,cxb4,cxb4,Bxd5,Qxa5,Qxa5,Rxa5,e4,Nxd5,Rxd5,Ra6,Bxg7,Kxg7,f3,Rea8,Kc2,Ra2+,Kd3,R2a3,Rb1,Ra1,Rb2,Rh1,h4,Rf1,f4,Rf3+,Kd4,Rxg3,Rb5,Rg4,Rxb4,Rxf4,Ke3,Rxh4,Rc2,Re8,Rcc4,Rh3+,Kf4,Kh6,Rc5,Rh4+,Ke3,f5,Rcc4,g5,Rb6+,Kh5,Rf6,Rh3+,Kd4,Rxe4+,Kd5,Rd4+,Kc5,Rxc4+,Kxc4,g4,Rxf5+,Kg6,Rf1,Rg3,b4,h5,b5,h4,b6,h3', 'b7,Rf3,Rxf3,gxf3,b8=Q', 'https://lichess.org/training/EpGbc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('epH0v', 'Rapid', 'etrc', 1711, 'vduy', 1632, 'e4,e6,d4,d5,exd5,exd5,Nc3,Bb4,Bd2,Nf6,Nf3,Bg4,Be2,O-O,O-O,Re8,Ne5,Bxe2,Qxe2,Bxc3,Bxc3,Nbd7,Qf3,Nxe5,dxe5,Ne4,Bd4,c5,Be3,Rxe5,Rad1,Qe7,h3,d4,Bc1,Re8,Qg4,Nf6,Qg3,Re2,Bh6,g6,Bg5,Nh5,Qh4,f6,Bh6,Rxc2,Rde1,Re2,Rc1,Rxf2,Rxf2,Qe3,Rf1,Qxh6,g4,g5', 'Qxh5,Qxh5,gxh5', 'https://lichess.org/training/epH0v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EPH3p', 'Blitz', 'samavati644', 1913, 'uncleg', 1900, 'e4,c5,Nf3,Nc6,Nc3,Nf6,d4,cxd4,Nxd4,e6,Be2,Bb4,O-O,O-O,Bf3,Bxc3,bxc3,d5,exd5,Nxd5,Nxc6,bxc6,Bb2,Rb8,Rb1,Ba6,Re1,Bc4,Qc1,Qa5,Bxd5,cxd5,Ra1,Rb6,Ba3,Rfb8,Bb4,Qa4,a3,a5,Bc5,Rb2,Bd4,Rxc2,Qg5,f6,Bxf6,Qd7,Be5,Rbb2,Bd4,Qf7,Rxe6,Rxf2', 'Re8+,Qxe8,Qxg7#', 'https://lichess.org/training/EPH3p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ePhmA', 'Rapid', 'eazyzizi', 1841, 'Pepechucho', 1807, 'e4,e5,Nc3,Nc6,Bc4,h6,d3,Nf6,Nge2,Bc5,O-O,a6,Kh1,d6,f4,O-O,f5,Na5,Bb3,Nxb3,axb3,Bd7,Ng3,Bc6,Nh5,Bd4,g4,Bxc3,bxc3,d5,g5,hxg5,Bxg5,dxe4,Bxf6,exd3+,Kg1,gxf6', 'Qg4+,Kh7,Qg7#', 'https://lichess.org/training/ePhmA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EPIb0', 'Rapid', 'ERBAHI', 2083, 'lol7778', 2015, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bd2,Ngf6,O-O-O,Be7,Qe2,Qc7,Ne5,Bd6,f4,O-O,Ne4,Nxe4,Qxe4,Nf6,Qf3,c5,dxc5,Bxc5,g4,Nd5,Nd3,Rac8,g5,Bb4,Nxb4,Nxb4,c3,Rfd8,Kb1,Nd3,gxh6,Qb6,Bc1,Rxc3,Ka1', 'Rxc1+,Rxc1,Qxb2#', 'https://lichess.org/training/EPIb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('epivH', 'Blitz', 'hasp1980', 1626, 'plamen577', 1641, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Bg4,Be2,e6,c4,Nb6,O-O,Nc6,exd6,cxd6,d5,Bxf3,Bxf3,Ne5,dxe6,Nxf3+,Qxf3,fxe6,b3,Be7,Bb2,Rf8,Qh5+,g6,Qxh7,Bf6,Qxg6+,Ke7,Qh7+,Rf7,Bxf6+,Kxf6,Qh6+,Ke7,Re1,Qd7,Nc3,Raf8,Re2,Rf6,Qg5,Kd8,Rd1,Kc7,Nb5+,Kb8,Rxd6,Qf7,Rdd2,Qh7,Qg3+,Kc8,Nd6+,Kb8,Ne4+,Ka8,Nxf6', 'Qb1+,Rd1,Qxd1+,Re1,Qxe1#', 'https://lichess.org/training/epivH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EPmki', 'Rapid', 'SMMM2', 1985, 'cadmos16', 2009, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Bd3,Bxe4,Bxe4,Nf6,Bd3,Qxd4,Nf3,Qb6,Qe2,e6,Bf4,Nbd7,O-O-O,Qa5,Kb1,Qb6,h4,Nd5,Bc1,Nc3+,Ka1,Nxe2,Bxe2,O-O-O,Ng5,Qxf2,Bg4,Qxg2,Rhg1,Qh2,Nxf7,Bc5,Rh1,Qg3,Bxe6,Rde8,Bxd7+,Kc7,Rhf1,Ref8', 'Bf4+,Qxf4,Rxf4', 'https://lichess.org/training/EPmki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ePmsL', 'Rapid', 'zemisel', 1782, 'hazard12', 1708, 'd4,d5,c4,e6,Nc3,c5,Nf3,a6,a4,Nf6,Bg5,Be7,e3,cxd4,exd4,h6,Bh4,dxc4,Bxc4,Nc6,O-O,O-O,Rc1,Qb6,d5,exd5,Nxd5,Nxd5,Bxd5,Bxh4,Nxh4,Rd8,Qf3,Ne5,Qe4,Qf6,Bxb7', 'Bxb7,Qxb7,Qxh4', 'https://lichess.org/training/ePmsL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('epNqN', 'Blitz', 'NM okmnstr', 2513, 'Sibelius_92', 2478, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,exd6,Bd3,Be7,Ne2,Nc6,Nbc3,Nb4,O-O,Nxd3,Qxd3,O-O,a4,a5,Be3,Bf6,b3,Bg4,f3,Bd7,Rae1,Re8,Ng3,g6,Nge4,Bg7,Bg5,f6,Bh4,Bf5,Qd2,d5,Ng3,Rxe1,Rxe1,dxc4,Nxf5,gxf5,bxc4,Nxc4,Qd3,Nd6,Nd5,Qd7,Re7,Qxa4,Bxf6,Qa1+,Kf2,Bf8,Rxc7', 'Qa2+,Kg1,Qxd5', 'https://lichess.org/training/epNqN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EPnRM', 'Rapid', 'ansori', 1840, 'CHESSMASTEP', 2039, 'd4,d5,c4,c6,e3,Nf6,Nd2,e6,a3,Be7,b4,O-O,Bb2,Nbd7,Ngf3,Re8,Bd3,Nf8,O-O,Bd6,Rc1,Ng6,h3,b6,c5,bxc5,dxc5,Bc7,Nd4,Bd7,N2f3,e5,Bxg6,hxg6,Nb3,e4,Nfd4,a6,Ne2,Nh5,f4,exf3,Rxf3,Qg5,Nf4,Nxf4,exf4,Bxf4,Rc2,Re3,Qd4,Be5', 'Qxe3,Qxe3+,Rxe3', 'https://lichess.org/training/EPnRM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eppae', 'Blitz', 'anothermuggle', 2152, 'RamonKeja', 2179, 'e4,e5,Nf3,Nf6,d4,Nxe4,Bd3,d5,Nxe5,Bd6,O-O,O-O,c4,c6,Nc3,Bf5,cxd5,Nxc3,bxc3,Bxd3,Qxd3,cxd5,f4,Nd7,a4,Nf6,Ba3,Bxa3,Rxa3,Rc8,Rb1,b6,Qa6,Ne4,Qxa7,Nxc3,Rxb6,Ne2+,Kf1,Nxf4,Rb1,Rc2,g3,Qf6,Rf3,Qh6,Rxf4,Qxh2,Qxf7+,Rxf7', 'Rb8+,Rc8,Rxc8+,Rf8,Rfxf8#', 'https://lichess.org/training/eppae');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EppbR', 'Blitz', 'GM AkibaGonzalez', 2521, 'Login22', 2540, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,e3,O-O,Bd3,c6,Qc2,h6,Bh4,Re8,Nge2,Nbd7,O-O,b6,Rad1,Bb7,Kh1,Rc8,f3,c5,Qd2,cxd4,exd4,Nh5,Bxe7,Qxe7,Ng3,Nxg3+,hxg3,Nf6,Rfe1,Qd6,Qf2,a6,Rxe8+,Rxe8,Re1,Rc8,Re5,b5,g4,b4,Ne2,Nd7,Rh5,Nf8,Qe3,Qe6,Qxe6,Nxe6,Kg1,a5,Kf2,a4,Rh1,Kf8,Ke3,Re8,Kd2,Ke7,Rc1,Kd6,a3,bxa3,bxa3,Bc6,Rb1,Kc7,Rb4,Rb8,Rxb8,Kxb8,Kc3,Kc7,Kb4,Kb6,Bf5,Nc7,Nc3', 'Na6#', 'https://lichess.org/training/EppbR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EpPQ8', 'Rapid', 'Negal', 2032, 'aparhizgar', 1816, 'd4,d5,Bf4,Nc6,c3,Nf6,e3,Bf5,c4,e6,Nc3,Bb4,Nf3,Ne4,Qb3,O-O,a3,dxc4,Bxc4,Bd6,Qxb7,Na5,Qb5,Nxc4,Qxc4,Bxf4,exf4,Nxc3,bxc3,Be4,Qe2,Bd5,O-O,Qf6,Qe3,Bc4,Rfe1,a5,Ne5,Bb5,a4,Be8,Qg3,Qf5,Ng4,Kh8,h4,h5,Re5', 'Qxg4,Qxg4,hxg4', 'https://lichess.org/training/EpPQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EPQcl', 'Rapid', 'SiYesNoNo', 1685, 'insigne_amateur', 1712, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,cxd4,cxd4,Nge7,b4,a5,b5,Nd8,Be2,Nf5,O-O,a4,Nc3,Bd7,Rb1,Be7,Nxa4,Qa5,Nc5,Bxc5,dxc5,O-O,Nd4,Qc3,Bb2,Qxc5,Nxf5,exf5,Bd4,Qxa3', 'Ra1,Qe7,Rxa8', 'https://lichess.org/training/EPQcl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ePqyC', 'Rapid', 'Kian008', 1889, 'AlistairM', 1706, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Bg4,Be2,Bxe2,Ngxe2,e6,Bg5,Bd6,cxd5,exd5,Nxd5', 'Qa5+,Ndc3,Qxg5', 'https://lichess.org/training/ePqyC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ePskI', 'Rapid', 'Killerfischer', 1520, 'chillawn', 1541, 'e4,d6,Nf3,Nd7,Bc4,h6,d3,e5,Be3,Ngf6,Nc3,c6,a3,b5,Ba2,Qc7,b4,Be7,Bb3,Nf8,O-O,g5,h3,Ng6,a4,a5,axb5,c5,Bd2,cxb4,Nd5,Nxd5,Bxd5,Rb8,Bc6+,Bd7,Bxd7+,Kxd7,Be3,Rxb5,c4,bxc3,Qc1,Nf4,Bxf4,gxf4,Ra3,c2,Ra2,Rc8,g3,fxg3,fxg3,Bg5,Nxg5,hxg5', 'Rxf7+,Ke8,Rxc7,Rxc7,Rxc2,Rxc2,Qxc2', 'https://lichess.org/training/ePskI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EpSpT', 'Rapid', 'mixail21', 1708, 'MChabot', 1850, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,d6,Nc3,e6,Bd3,Qc7,Be3,Nf6,Qf3,Nbd7,O-O-O,Ne5,Qg3,Nxd3+,Rxd3,b5,b4,Bb7,f3,g6,Qh4,Bg7,Bg5,Nd7,Be3,Ne5,Rhd1,Nxd3+,Rxd3,O-O,f4,Rac8,Kd2,e5,Nf3,Bxe4,Ng5,h6,Ngxe4,exf4,Bxf4,Bxc3+,Rxc3,Qd8,Qxd8,Rfxd8,Rxc8,Rxc8,Bxd6,Rd8,Ke3,f5,Bc7', 'Re8', 'https://lichess.org/training/EpSpT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ePt3R', 'Rapid', 'Lidiy', 1668, 'vanilla_cherry', 1817, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Bd3,d5,e5,Ne7,Bf4,Ng6,Bxg6,hxg6,h3,Bc5,a3,Ba6,b4,Bb6,c3,c5', 'Qa4+,Kf8,Qxa6', 'https://lichess.org/training/ePt3R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('epUC6', 'Blitz', 'Gumus_VolkanG34', 2113, 'Vroombutu', 2220, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Bb5,Qb6,Bxc6,Qxc6,Qe2,Rb8,Qb5,c4,O-O,Qc7,Ng5,Be7,Qa4,a6,f5,b5,Nxb5,axb5,fxe6,bxa4', 'exf7+,Kf8,Ne6#', 'https://lichess.org/training/epUC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EpW9j', 'Classical', 'Rabazan', 1765, 'Chess_Nomad_225', 2025, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nf3,Qe7,Nc3,Nf6,Bd3,Nb4,O-O,Nxd3,cxd3,O-O,e5,Ng4,d4,Bb4,Nd5,Qd8,Bg5,f6,exf6,gxf6,Bh6,Nxh6,Nxb4,d5,Qd3,Qd6,Nc2,Kh8,Rac1,Rg8,Qe3,Bh3,g3,Ng4,Qe2,Rae8,Qd3,Qf4,Rfe1,Nh6,Rxe8,Qxc1+,Re1,Qf4,Qe3,Qf5,Nh4,Qg5,Qxg5,fxg5,Nf3,Bf5,Ne3,Be4,Ne5,g4,b4,c6,a4,Rg7,b5,cxb5,axb5,Rc7,N3xg4,Nxg4,Nxg4,Rc4,Kf1,Rxd4,Rc1', 'Bd3+,Ke1,Rxg4', 'https://lichess.org/training/EpW9j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EPwUh', 'Classical', 'LALFIO2', 1999, 'architectureabolfazl', 1764, 'd4,e6,c4,d5,c5,c6,Nc3,a6,e4,dxe4,Nxe4,h6,Bf4,Nf6,Nd6+,Bxd6,Bxd6,Ne4,Qg4', 'Qa5+,Ke2,Qd2+', 'https://lichess.org/training/EPwUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('epwZ6', 'Rapid', 'romenlik12', 1816, 'mojo1146', 1626, 'e4,e5,Bc4,Nc6,d3,Bc5,Nf3,Nf6,Bg5,d6,Bxf6,Qxf6,Nbd2,Bg4,c3,O-O,a4,a6,a5,Kh8,O-O,Qh6,Qb3,Rab8,Bd5,Ne7,Qc4,Nxd5,exd5,f5,b4,Ba7,Qxc7,Rfc8,Qd7,e4,dxe4,fxe4,Qxg4,exf3,Nxf3,Rf8,Qe6,Qh5,Qxd6,Rf6,Qe5,Qh6,Ng5,Rbf8,Ne6,Rf5,Qe4,Bxf2+,Kh1,Rh5,Rxf2', 'Rxh2+,Kg1,Rh1#', 'https://lichess.org/training/epwZ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('epxt6', 'Rapid', 'osmantopal', 1693, 'Anatolianks', 1724, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,Bb4,Bd2,Bxc3,Bxc3,Bxe4,Bc4,Nf6,O-O,O-O,Re1,d5,Bd3,Nbd7,Ng5,Bxd3,Qxd3,c5,dxc5,bxc5,Bxf6,Nxf6,Re3,c4,Qd4,h6,Nh3,Qb8,Rb1,h5,Rg3,e5,Qe3,Qd6,Qg5,g6,Qh6,Ng4,Qg5,Qf6', 'Rxg4,Qxg5,Rxg5', 'https://lichess.org/training/epxt6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('epY2l', 'Rapid', 'chessmst', 1861, 'connor-da-genius', 1859, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,Be7,O-O,a6,a3,b5,Ba2,Qc7,Be3,Nf6,Rc1,O-O,Nd5,exd5,exd5,Bb7,Qc2,Rac8,Rfd1,Bd6,dxc6,Bxc6,Nd4,Be4,Qxc7,Rxc7,Rxc7,Bxc7,f3,Bb7,Nf5,d5,Bc5,Re8,Kf1,g6,Nd6,Bxd6,Bxd6,Rd8', 'Be7,Rc8,Bxf6', 'https://lichess.org/training/epY2l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Epy6T', 'Classical', 'ahmedalieldeep', 1723, 'Bor-2018', 1796, 'e4,e6,d4,d5,exd5,exd5,c4,dxc4,Bxc4,Nf6,Nc3,Bb4,d5,O-O,Bg5,Re8+,Ne2,h6,Bxf6,Qxf6,Qb3,Bxc3+,bxc3,c6,O-O,cxd5,Bd3,Nc6,Rfe1,d4,Nxd4,Rxe1+,Rxe1,Ne5,Bc2,b6,h3,Bb7,Be4,Bxe4,Rxe4,Nd3,Qc2,Nc5,Re3,Rd8,Rf3,Qd6,Nb5,Qd1+,Qxd1,Rxd1+,Kh2,a5,a3,Rb1,c4,Rb3,Rxb3,Nxb3,Nd6,Nd2,Kg3,Kf8,Kf4,Ke7,Nc8+,Kd7,Nxb6+,Kc6,Nd5,Nxc4,Ne7+,Kd7,Nf5,Nxa3,Nxg7,Nc2,Nf5', 'a4,Ke4,a3,Kd3,a2,Kxc2,a1=Q', 'https://lichess.org/training/Epy6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('epYrS', 'Blitz', 'IM Daskevich', 2594, 'IM cn_ua', 2597, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,dxe5,fxe5,Nc6,Be3,Bf5,Nc3,e6,Nf3,Bg4,Qd2,Bxf3,gxf3,Be7,O-O-O,Na5,b3,Bb4,Qd3,Qe7,Ne4,O-O-O,Bg5,Qd7,Bxd8,Rxd8,Kb1,Bf8,f4,Nc6,d5,Nb4,dxe6,Qxd3+,Bxd3,Nxd3,exf7,Nxf4,Ng5,Nd7,Nxh7,Ne6,h4,Nxe5,Ng5,Nxg5,hxg5,Nxf7,g6,Ne5,Rxd8+,Kxd8,Rh8,Ke7,Kc2,Nxg6,Rh5,Nf4,Rf5,Ne6,Kd3,b6,b4,c5,a3,cxb4,axb4,g6,Rf1,Kd7,b5,Ke7,Ra1,Nc5+,Ke3,Kf6,Rxa7,Bh6+,Kf3,g5,Rc7,Ne6,Rc6,Kf5,Kf2,g4,c5,bxc5,b6,Bf4,b7,g3+,Kg2,Nd4,Rc8,Kg4,Rg8+,Kf5', 'Rf8+,Ke4,Rxf4+,Kxf4,b8=Q+', 'https://lichess.org/training/epYrS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ePzmb', 'Blitz', 'shovalie64', 2473, 'WFM Dove____Cameron', 2316, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,dxc4,e4,b5,e5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Nbd7,exf6,Bb7,g3,Qb6,Bg2,O-O-O,O-O,c5,d5,b4,Rb1,Bh6,Qd2,Bxg5,Qxg5,Rdg8,Qe3,Nxf6,Na4,Qd6,Qxc5+,Qxc5,Nxc5,Bxd5,Bxd5,exd5,b3,c3,Nd3,a5,a3,Ne4,Ra1,Nd2,Rfc1,Nxb3,axb4,Nxc1,Rxc1,axb4,Nxb4,d4,Nc6,Rg4,f4,Kd7,Ne5+,Ke6,Nxg4,Kd5,h4,Rc8,Kf2,d3,Ke3,d2,Ra1,Kc4,Ke2,Re8+,Ne3+,Kb3,Rb1+,Ka2,Rb7', 'Rxe3+,Kxe3,d1=Q', 'https://lichess.org/training/ePzmb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EQ29h', 'Rapid', 'Jeremy__Corbyn', 1722, 'ashugupta', 1763, 'e4,c5,Bc4,Nc6,Nf3,Nf6,Nc3,d6,d4,cxd4,Nxd4,Nxd4,Qxd4,g6,O-O,Bg7,Bg5,O-O,e5,dxe5,Qxe5,Re8,Rad1,Qb6,Qb5,Bf5,Bd3,Qxb5,Nxb5,Bxd3,Rxd3,Rac8,c3,a6,Nd4,Nd5,Re1,Bxd4,Rxd4,e6,c4,Nb4,Rc1,Nxa2,Rb1,Nb4,b3,Rc5,Bf6,Rf5,Bh4,Nc6,Rd7,Na5,h3,e5,Rc7,e4,b4,Nc6,Rxb7,e3,fxe3,Rxe3,Rb6,Nd4,Bf6,Ne2+,Kh2,Re8,Re1,h5,Rxa6,g5,b5,g4,hxg4,hxg4,Rc6', 'Rh5+,Bh4,Rxh4#', 'https://lichess.org/training/EQ29h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eq4t2', 'Rapid', 'RememberHaruMamburu', 1880, 'shikantaza', 1870, 'Nf3,Nc6,d4,d5,c4,e6,Nc3,Bb4,Bf4,Bxc3+,bxc3,h6,h3,Nf6,e3,b6,Bd3,a5,cxd5,Nxd5,c4,Nxf4,exf4,O-O,Be4,Bb7,O-O,Rb8,Qd2,Nb4,Bxb7,Rxb7,Ne5,f6,Ng6,Rf7,a3,Na6,Rfd1,Rd7,h4,c6,Qe3,Nc7,Qe4,Rd6,f5,e5,Rd3,Ne8,Rad1,Rbd7,d5,c5,Qf3,Nc7,g4,b5,h5,bxc4,R3d2,Rxd5', 'Rxd5,Rxd5,Rxd5,Nxd5,Qxd5+,Qxd5,Ne7+,Kf7,Nxd5', 'https://lichess.org/training/Eq4t2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQ8wV', 'Rapid', 'Timster39', 1615, 'bieggabartnazan', 1652, 'e4,a6,d4,e6,Bd3,c5,c3,cxd4,cxd4,b5,Nf3,Bb7,Qe2,h6,Nbd2,Qa5,b3,Ba3,O-O,Bb4,a3,Bd6,e5,Bc7,Bc2,f6,b4,Qb6,Bb2,fxe5,dxe5,Ne7,Rfe1,O-O,Bd4,Qc6,Be4,d5,exd6,Qxd6,Bxb7,Ra7,Be4,g5,g3,g4,Bh7+,Kxh7,Qe4+,Nf5,Nh4', 'Qxd4,Nxf5,Qxe4', 'https://lichess.org/training/eQ8wV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EqAEe', 'Rapid', 'nitdal', 1760, 'motaz19782', 1927, 'e4,c5,Nc3,Nc6,Nf3,g6,d3,Bg7,Be2,e6,O-O,Nge7,Be3,b6,e5,Nxe5,Nxe5,Bxe5,Bf3,d5,d4,cxd4,Bxd4,Bxd4,Qxd4,O-O,Rfe1,Bb7,Rad1,Rc8,Qb4,Rc4', 'Qxc4,dxc4,Rxd8,Rxd8,Bxb7', 'https://lichess.org/training/EqAEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EqAFt', 'Rapid', 'Penelosky', 2016, 'momo_klaus', 2052, 'e4,e5,f4,exf4,Nf3,d6,d4,g5,Bc4,Bg7,c3,h6,O-O,Nf6,Qb3,O-O,e5,dxe5,Nxe5,Nc6,Nxf7,Rxf7,Bxf7+,Kh8,Bg6,Bg4,Nd2,Ne7,Bc2,b6,Ne4,Nxe4,Bxe4,c5,Bxa8,Qxa8,dxc5,bxc5,Qf7,Nf5,h3,Bxh3,gxh3,Ng3,Bxf4,gxf4,Qxf4', 'Ne2+,Kf2,Nxf4', 'https://lichess.org/training/EqAFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQapb', 'Rapid', 'watching_pawn', 2011, 'Phantom_Spark', 1997, 'd4,d5,c4,e6,Nc3,dxc4,e4,Bb4,Bxc4,c6,d5,cxd5,exd5,Nf6', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/eQapb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eqb6x', 'Rapid', 'chetanator', 2024, 'Mushaboom', 2016, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,Qd3,Bc5,Be3,Bxe3,Qxe3,Qxb2,Qc3,Qc1+,Ke2,Qf4,Nd2,Nf6,g3,Qd6,e5,Nd5,Qd4,Qe6,Bg2,Nb6,Rhe1,O-O,Kf1,a5,Ne4,Qc4+,Qxc4,Nxc4,Rab1,Re8,f4,f5,Nc5,Nd2+,Ke2,Nxb1,Rxb1,d6,Nd3,c6,Kd2,dxe5,Nxe5,a4,Kc3,a3,Rb6,Ra5,Kb4,Ra7,Kc5,Rd8,Bxc6,bxc6,Nxc6,Rc7,Rb8,Rb7', 'Rxb7,Bxb7,Nxd8', 'https://lichess.org/training/Eqb6x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EqCDT', 'Rapid', 'Ikllu', 1868, 'Grini777', 1819, 'b4,d5,Bb2,Nf6,Bxf6,exf6,a3,a5,b5,d4,a4,Bc5,c3,O-O,cxd4', 'Qxd4,e3,Qxa1', 'https://lichess.org/training/EqCDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EQDNK', 'Rapid', 'yodaAvtar', 1825, 'abdelhaleam', 1835, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,c3,c5,Be3,Nc6,dxc5,Nge7,Nh4,Nxe5,Nxf5,Nxf5,Bb5+,Nc6,O-O,Nxe3,fxe3,Bxc5,Qf3,O-O,b4,Ne5,Qg3,Bd6,Nd2,Nc4,Qf2,a6,Bxc4,dxc4,Nxc4,Rc8,Nxd6,Qxd6,Rad1,Qe5,Rd3,Rxc3', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/EQDNK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQE3Q', 'Rapid', 'ErickKoaanilc', 1736, 'BookAnd123', 1704, 'e4,e6,Qf3,d5,e5,c5,Qd3,Nc6,c3,Nxe5,Qg3,Nc6,Be2,Qb6,Nf3,Nh6,Nh4,Be7', 'Qxg7,Rg8,Qxh6', 'https://lichess.org/training/eQE3Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eqeCt', 'Rapid', 'MC_Bauchgefuehl', 2033, 'Rndrps', 1995, 'c4,f5,g3,Nf6,Bg2,e6,Nc3,Be7,d3,O-O,Nf3,d6,O-O,Nbd7,a3,a6,b4,c5,b5,Nb6,Bb2,e5,a4,a5,Nd2,Qe8,e4,Rb8,exf5,Bxf5,Nce4,Qg6,Bc3,d5,cxd5,Nbxd5,Bxe5,Rbd8,Qb3,Kh8,Rad1,Bg4,Rde1,Qh5,Nxf6,Bxf6,Bxd5,Bxe5,Bxb7,Be2,Be4,Bxf1,Rxf1,Bd4,Nc4,Qe2,Qd1,Qxd1,Rxd1,Rxf2,Kh1,Rdf8,b6,Ra2,b7,Rxa4,Rb1,Rb4,Rxb4,axb4,Nd6,b3,Nc8,b2,b8=Q,Rf1+,Kg2,b1=Q', 'Nb6+,Rf8,Qxf8#', 'https://lichess.org/training/eqeCt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eqeFl', 'Rapid', 'RETUTCA', 1769, 'Amenin', 1756, 'e4,e5,Nf3,Nc6,d4,d6,Nc3,exd4,Nxd4,Nge7,Be3,h6,a3,g6,Bd3,Bg7,Nxc6,Nxc6,Qd2,Ne5,Be2,h5,f4,Ng4,Bxg4,Bxg4,O-O,O-O,f5,gxf5,exf5,Qf6,Ne4,Qe5,f6,Bh8,Nf2,Bxf6,Nxg4,hxg4,c3,a6,Bd4,Bg5,Qd1,Qe6,Qc2,f5,Rae1,Qg6,Qb3+,Rf7,Re6,Qh7,Rfe1,Raf8,Re8,c5,Rxf8+,Kxf8,Bf2,f4,Qe6,g3,hxg3,fxg3,Bxg3,Be7,Bxd6,Qh4,Bxe7+,Rxe7,Qf5+,Rf7,Qe6', 'Qf2+', 'https://lichess.org/training/eqeFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EQFSC', 'Rapid', 'Blizzard059', 1903, 'JOhngodman', 1876, 'e4,e6,d3,d5,Qf3,dxe4,dxe4,Ne7,Be3,Ng6,Nd2,Bd7,Qg3,Bd6,f4,Nc6,e5,Bf8,c3,Be7,Qg4,f5,exf6,Bxf6,Be2,Qe7,Bd3,O-O-O,Bxg6,hxg6,Qxg6,Bh4+,g3,Rh6,Qg4,e5,f5,Bxg3+,Qxg3,Bxf5,Bxh6,gxh6,O-O-O,Qe6,Nb3', 'Rxd1+,Kxd1,Qd5+,Nd2,Qxh1', 'https://lichess.org/training/EQFSC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQglZ', 'Classical', 'TheWinChesster', 1769, 'mahmaddaeel', 1870, 'd4,d5,e3,c5,c3,Nc6,h3,cxd4,exd4,e5,Qe2,e4,f3,Qh4+,Kd1,Be7,f4,Bg4,Qxg4,Nh6,Qxh4,Bxh4,Ne2,Nf5,g3,Bxg3,Nxg3,Nxg3,Rg1,Nf5,Bb5,O-O,Bxc6,bxc6,Ke2,Rfe8,Nd2,e3,Nf3,Re4,Ne5,Rxf4,Rf1', 'Ng3+,Kxe3,Rxf1', 'https://lichess.org/training/eQglZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQHmM', 'Classical', 'Poffi', 1924, 'The-Chozen-One', 1801, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,g3,Nc6,Nf3,b6,Bg2,Bb7,O-O,d6,e3,Qe7,Ne2,Bxd2,Nxd2,e5,dxe5,dxe5,a3,Nd8,Bxb7,Nxb7,b4,Rad8,Qc2,Qd7,Nf3,e4,Nfd4,Nd6,h4,Nf5,Nxf5,Qxf5,Nf4,Ng4,Kg2,Ne5,Qe2,Nf3,Nd5,Qg4,Rh1,Nxh4+,Kf1,Qxe2+,Kxe2,Nf3', 'Ne7+,Kh8,Rxh7+,Kxh7,Rh1+,Nh4,Rxh4#', 'https://lichess.org/training/eQHmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQhvK', 'Blitz', 'alpamys29', 1586, 'QUEMERO', 1573, 'e4,e5,Nf3,d6,h3,Bd7,Bc4,h6,c3,a6,d4,Be7,dxe5,Nc6,exd6,Bxd6,O-O,Qe7,e5,Bc5,e6,Bxe6,Bxe6,Qf8,Bc4,Bd6,Re1+,Nge7,Qd3,O-O-O,Bxa6,Bh2+,Kxh2,Rxd3,Bxd3,f6,Na3,Qd8,Bb5,Qd6+,Kh1,Ne5,Nxe5,fxe5,Nc4,Qc5,Rxe5,Qxf2,Be3,Qf6,Rd1,Nf5,Bd4,Ng3+,Kh2,Qf4,Kg1,Ne4,Be3,Qg3,Re7,Ng5,Rdd7', 'Nf3+,Kf1,Qe1#', 'https://lichess.org/training/eQhvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EqiiX', 'Rapid', 'Salisxy', 1622, 'momo_duke2', 1649, 'd4,d5,Bf4,Nf6,Nc3,a6,e3,Nc6,Bd3,h6,h3,e6,a3,Bd6,Bxd6,Qxd6,Nf3,e5,dxe5,Nxe5,Nxe5,Qxe5,O-O,O-O,Qf3,c6,Rae1,b5,e4,d4,Ne2,c5,Nf4,c4,Be2,c3,bxc3,dxc3,Bd3,Bb7,Nd5,Nxd5,exd5,Qxd5', 'Be4,Qxe4,Rxe4', 'https://lichess.org/training/EqiiX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQJQG', 'Classical', 'ediblebooks', 1758, 'Nick1987', 1756, 'e4,c5,Nf3,e6,d4,d5,Qe2,c4,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,exd5,O-O,dxe6,Bxe6,O-O-O,Re8,Ne5,Na6,g3,Bg4,f3,Bg5+,Kb1,Be6,Qg2,Nb4,f4,Be7,g4,f5,h4,fxg4,Nxg4,Bxg4,Qxg4,Nd5,Ne4,Ne3,Bxc4+,Nxc4,Rhg1,g6', 'Qe6+,Kh8,Qxc4', 'https://lichess.org/training/eQJQG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eqKLn', 'Rapid', 'arceburgo', 1800, 'heezker', 1811, 'd4,d5,Nf3,Nc6,e4,dxe4,Nfd2,Qxd4,c3,Qe5,Be2,Nf6,Nc4,Qd5,Nbd2,Bg4', 'Bxg4,Nxg4,Qxg4', 'https://lichess.org/training/eqKLn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EQkRA', 'Blitz', 'Hipexpert', 2107, 'skif_2020', 2071, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,a3,Bd7,Be2,a5,O-O,c4,Nbd2,a4,Qc2,h6,g4,g5,h4,Nge7,hxg5,hxg5,Nxg5,Bh6,f4,Bxg5,fxg5,Rh3,Kg2,Rh4,Kg3,Ng6,Nf3,Rh7,Bf4,O-O-O,Qxa4,Kb8,Qc2,Rdh8,Be3,Ngxe5,Bf4,Rh3+,Kg2,Kc8,Nxe5,Nxe5,Bxe5,R8h7,g6,fxg6,Qxg6,Qd8,Rf6,b6,Raf1,Kb7,Rf8,Qh4,Qg8,Rh2+,Bxh2', 'Qxh2+,Kf3,Rh3#', 'https://lichess.org/training/EQkRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EqLY8', 'Classical', 'saeedk23', 1648, 'Mohitdwivedi', 1631, 'd4,d5,c4,Nf6,c5,g6,Nf3,Bg7,Bg5,Ne4,e3,O-O,Bd3,Nxg5,Nxg5,e5,Nxh7,Kxh7,Qh5+,Kg8,Qf3,exd4,exd4,c6,O-O,Nd7,Re1,Nf6,Nd2,Bg4,Qf4,Qc8,h3,Bxh3,gxh3,Qxh3,Nf3,Nh5,Qe3,Rae8,Ne5,Qh4,Re2,Bxe5,dxe5,Nf4,Rd2,Qg4+,Qg3,Nh3+,Kh2,Qb4,Bxg6,fxg6,Qxg6+,Kh8,Qh6+,Kg8,Kxh3,Rxe5,Rg1+,Kf7,Qg7+,Ke8,Qg6+,Rf7,Qg8+,Ke7,Rg7,Rh5+,Kg2,Qe4+,Kf1,Rh1+,Rg1,Qc4+', 'Re2+,Qxe2+,Kxe2,Rxg1,Qxg1', 'https://lichess.org/training/EqLY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EQmQi', 'Rapid', 'mohamad1358', 1653, 'Prof_Dr_Moriarty', 1638, 'e4,c5,Bc4,e6,Nf3,Nc6,a3,d6,d3,a6,Ng5,Be7,Nh3,Nf6,Nf4,O-O,O-O,e5,Ne2,b5,Ba2,Be6,Nbc3,Nd4,Nd5,Qd7,f4,Qb7,fxe5,dxe5,c4,bxc4,dxc4,Rfd8,Ng3,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/EQmQi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EqNIn', 'Classical', 'marshallow', 2111, 'Aldebaran56', 1883, 'Nf3,d5,c4,d4,b4,e6,c5,a5,e3,dxe3,fxe3,axb4,d4,Nf6,Bd3,Nc6,Bb2,Be7,O-O,O-O,e4,Qd7,a3,Rd8,Bb5,Nxe4,Ne5,Qd5,Bc4,Qxe5,dxe5,Rxd1,Rxd1,Bxc5+,Kf1,Kf8,axb4,Rxa1,Bxa1,Bxb4,Bb5,Na7', 'Rd8+,Ke7,Re8#', 'https://lichess.org/training/EqNIn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQNOd', 'Rapid', 'SatanVicovaro', 1884, 'Antonescu', 1869, 'b4,e5,Bb2,d6,e3,Bf5,c4,Nf6,Nc3,Nbd7,d4,g6,dxe5,Nxe5,Nd5,Nxd5,cxd5,Bg7,f4,Nf3+,Nxf3,Bxb2,Rb1,Bc3+,Nd2,Bxb1,Qxb1,Bxd2+,Kxd2,O-O,Bd3,a5,b5,b6,a4,Qf6,Qc2,Rac8,g4,Qh4,g5,Qf2+,Be2,Rfe8,Qd3,Re7,h4,Rce8,Rh3,Re4,h5,Rb4,Kc2,gxh5,Rxh5,h6,Rxh6,Rxe3,Qh7+,Kf8,Qh8+,Ke7,Qf6+,Kd7,Qxf7+,Re7', 'Qf5+,Kd8,Rh8+,Re8,Qf6+,Kc8,Rxe8+', 'https://lichess.org/training/eQNOd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EQo0y', 'Blitz', 'roshuleskoandrei', 1988, 'Shadowkillers', 2009, 'c3,Nf6,g4,Nxg4,e4,d6,d4,g6,Bg5,Bg7,Be2,Nf6,f3,O-O,Qd2,b6,Bh6,Bb7,h4,Nbd7,Nh3,c5,d5,Qc7,Na3,a6,O-O-O,b5,Nc2,c4,Rdg1,e6,dxe6,fxe6,Bxg7,Kxg7,Ng5,Rae8,h5,Rg8,hxg6,hxg6,Nd4,Nc5,b4,cxb3,axb3,e5,b4,exd4,bxc5,dxc3,Qf4,Qxc5', 'Rh7+,Nxh7,Qf7+,Kh8,Qxh7#', 'https://lichess.org/training/EQo0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQobW', 'Rapid', 'GoktugAkay', 1696, 'patrixowy', 1672, 'e4,b6,f4,Bb7,Nc3,e6,d4,Bb4,Bd2,Bxc3,Bxc3,Bxe4,Nf3,d5,Bd3,Nf6,Qd2,Bxd3,Qxd3,Ne4,Qe2,Qh4+,g3,Qh3,Bb4,Nc6', 'Qb5,O-O-O,Qxc6', 'https://lichess.org/training/eQobW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eqomc', 'Classical', 'Kris7851', 1854, 'swansness', 1872, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bf4,Bd6,Bg3,O-O,Bd3,Bxg3,hxg3,Re8+,Kf1,Be6,Ng5,h6,Nxe6,Rxe6,Nd2,Nc6,c3,a5,g4,Qd6,Bf5,Re7,Nf3,Rae8,g5,hxg5,Qd3,g6,Bxg6,fxg6,Qxg6+,Rg7,Qh6,Ne4,Qh8+,Kf7,Qh5+,Qg6,Qg4,Qe6,Qh5+,Qg6,Qg4,Nf6,Qg3,Qd3+,Kg1,Re7', 'Nxg5+,Kg8,Qxd3', 'https://lichess.org/training/Eqomc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EQp0p', 'Rapid', 'ALMOOSHA3HB', 1613, 'Hestiaaaa', 1602, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,e6,Bd2,Nc6,Nf3,Nb4,Ne4,Qb6,a3,Nd5,c4,Ndf6,c5,Qxb2,Rb1,Qxa3,Ra1,Qb2,Bc3,Qb5,d4,Qc6,Qb1,Qxe4+,Be2,Qxb1+,Rxb1,Ne4,Bb4,Be7,Bd3,Ngf6,Ne5,O-O,f3,Ng5,h4,Nxf3+,Nxf3,Bd7,g4,Nxg4,Rg1,Ne3,Ke2,Nf5,Ne5,Nxd4+,Ke3,Nc6,Nxd7,Rfd8,Bc3,Rxd7,Rxg7+,Kf8,Rxh7,Rad8,Bg7+,Ke8', 'Rh8+,Bf8,Rxf8+,Ke7,Rxd8', 'https://lichess.org/training/EQp0p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eqPQr', 'Rapid', 'Rudess', 2221, 'shin543', 2258, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Qc7,a3,a6,Nc3,b5,Be3,Bb7,Bd3,b4,axb4,Bxb4,Bd2,Nf6,Qe2,Nc6,Nxc6,Qxc6,O-O,Bxc3,Bxc3,Nxe4,Bxe4,Qxe4,Qxe4,Bxe4,f3,Bxc2,Bxg7,Rg8,Be5,Ke7,Rfc1,Rgc8,Ra3,f6,Bc3,Bd3', 'Bb4+,Kf7,Rxc8,Rxc8,Rxd3', 'https://lichess.org/training/eqPQr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eqsdy', 'Rapid', 'John1905', 1523, 'MDS2410', 1509, 'd4,d5,e3,Nf6,f3,Nc6,Bd2,Bf5,Bd3,e6,Bxf5,exf5,Ne2,Be7,Nf4,O-O,Nc3,Qd7,O-O,Bd6,a3,Na5,b3,c5,dxc5,Bxc5,a4,Rac8,Ncxd5', 'Nxd5,Bxa5,Bxe3+,Kh1,Bxf4', 'https://lichess.org/training/Eqsdy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQSPG', 'Rapid', 'djuma', 1633, 'A_Alexander', 1627, 'e4,e5,Nc3,Nc6,Nf3,Nf6,Bc4,Bc5,O-O,a6,a3,b5,Ba2,Bb7,d3,d6,Bg5,h6,Bh4,O-O,Qd2,Bd4,Nd5,Nxd5,Bxd8,Raxd8,exd5,Ne7,c3,Bb6,c4,c6,dxc6,Bxc6,cxb5,axb5,b4,Nd5,Qe2,Nf4,Qd1,Kh7,Qc2,Rc8,d4+,Kh8,dxe5,dxe5,Qf5,f6,Bb1,Kg8,Qh7+,Kf7,g3,Nh3+,Kg2,Bxf3+,Kxf3', 'Ng5+,Kg2,Nxh7', 'https://lichess.org/training/eQSPG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQTqf', 'Blitz', 'Josegalvez10', 1932, 'andresmrz96', 1806, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,h3,Bf5,Bd3,e6,Bxf5,Qxf5,Nf3,Bb4,O-O,Nf6,Bg5,Nbd7,a4,O-O,Ne2,h6,Bxf6,Nxf6,Ng3,Qd5,c3,Ba5,b4,Bc7,Re1,Rad8,Qc2,b6,Rad1,Qd6,Qb2,Qf4,Qc2,Rd7,Ne5,Bxe5,dxe5,Rxd1,Qxd1,Nd5,c4,Qxc4,Re4,Qc3,b5,c5,Nh5,Qa3,Qg4,g6,Kh2,Kh7,Nf6+,Nxf6,exf6,Rd8,Rxe6,fxe6,Qxe6,c4', 'Qf7+,Kh8,Qg7#', 'https://lichess.org/training/eQTqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eqUfp', 'Rapid', 'BrutalKnight', 1852, 'whyalwaysme', 1807, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,Be7,Nf3,O-O,e3,b6,Bd3,Bb7,O-O,Ne4,Nxe4', 'fxe4,Bxe7,Qxe7,Bxe4,Bxe4', 'https://lichess.org/training/eqUfp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EqvFs', 'Blitz', 'Moises_LI', 1825, 'zolsnox', 1734, 'e4,d6,Bc4,g6,Nc3,Bg7,Nce2,Nf6,d3,e6,Nf3,O-O,c3,a6,Ng3,Nc6,Bg5,Na5,Bb3,Nxb3,axb3,Qd7,Qc1,b6,Bh6,Bb7,h4,Qb5,d4,Nxe4,Nxe4,Bxe4,h5,Qxb3,Bxg7,Kxg7,hxg6,Bxg6,Qh6+,Kg8,Ng5,Qxb2,Rd1,Qxc3+,Kf1,Qc4+,Kg1,Qc2,Re1,f6,Nxe6,Rf7,Nf4,Qd2,Ra1,Re8,Nxg6,Qxh6,Rxh6,hxg6,Rxg6+,Kh7,Rg3,a5,f3,Rfe7,Kf2,Re2+,Kf1,Rd2,Rg4,f5,Rg5,Rxd4,Kf2,a4', 'Rh1+,Rh4,Rxh4#', 'https://lichess.org/training/EqvFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eqvSo', 'Rapid', 'nmami', 1734, 'alex484', 1918, 'e4,e6,d4,d5,exd5,exd5,Qe2+,Be7,Nf3,h6,Ne5,Nf6,g3,O-O,Bg2,Re8,O-O,Bd6,Nc3,Nc6,Nxd5,Nxe5,dxe5,Rxe5,Nxf6+,Qxf6,Qd3,c6,b3,Bf5,Qd2,Rc5,Ba3,Rxc2', 'Qxd6,Qxd6,Bxd6', 'https://lichess.org/training/eqvSo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EqYlm', 'Blitz', 'Mephisto82', 2050, 'Cami2605', 2046, 'Nf3,d5,d3,c5,Nbd2,Nc6,e4,d4,g3,e5,Bg2,Be6,O-O,h6,Qe2,Qd7,a4,Bh3,a5,Bxg2,Kxg2,Bd6,Nc4,Bc7,Ne1,Nge7,f4,f6,Qh5+,g6,Qf3,O-O-O,c3,dxc3,bxc3,g5,f5,h5,Be3,g4,Qf2,h4,Bxc5,hxg3,hxg3,Rh3,Rh1,Rdh8,Rxh3,Rxh3,Bxa7,Nxa7,Qxa7,Nc6,Qa8+,Nb8,a6,bxa6,Rb1,Qh7,Rxb8+,Bxb8,Qxa6+,Kd8,Qb6+,Bc7,Qc5,Rh2+,Kf1,Rh1+,Ke2,Qh2+,Kd1,Qxg3,Qf8+,Kd7,Qf7+,Kc8,Qe8+,Bd8,Qc6+,Kb8,Qb5+,Kc7,Qb6+,Kd7,Qd6+,Ke8,Qe6+,Be7', 'Nd6+,Kf8,Qf7#', 'https://lichess.org/training/EqYlm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eQZPZ', 'Rapid', 'itawi7', 1814, 'wagner_alves', 1788, 'd4,d5,Nf3,Nf6,e3,Bg4,Be2,e6,O-O,Nbd7,a3,c5,dxc5,Bxc5,b4,Bd6,h3,Bxf3,Bxf3,O-O,Bb2,Qc7,Nd2,Rac8,Rc1,Bh2+,Kh1,Be5,Bxe5,Qxe5,c4,b6,cxd5,Nxd5,Nc4,Qg5,Qd4,b5,Na5,Qf6,Bxd5,Qxd4,exd4,exd5,Nc6,Ra8,Ne7+,Kh8,Nxd5,Kg8,Rc7,Nb6,Nxb6,axb6,Rb7,Rxa3,Rxb6,Rd3,Rxb5,Rxd4,Rb1,g6,Ra5,Rfd8,b5,Rd1+,Rxd1,Rxd1+,Kh2,Kf8,b6,Rb1,Ra8+,Ke7,Ra7+,Ke6,b7,Rb3,g3,g5,Kg2,h5,f3,Rb2+,Kf1,h4,g4,Ke5,Ke1,Kf4,b8=Q+,Rxb8,Rxf7+,Kg3,Rg7,Kxh3,Rxg5,Rb3,Rf5,Kg3,Rh5,h3,g5,Kg2,g6,h2,g7,Rb8,Rg5+,Kxf3,Rh5,Re8+,Kd2,Re2+,Kc3,Rg2,Rh3+,Kf2', 'Rxh2,Rxh2,g8=Q', 'https://lichess.org/training/eQZPZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('er08t', 'Classical', 'J43L35', 1789, 'ishi007', 1842, 'd4,d5,c4,e5,e4,dxe4,d5,Bb4+,Nc3,Nf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/er08t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('er1fb', 'Rapid', 'KirfromOdessa', 1908, 'Jazzit', 1971, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Nc6,O-O,g5,d4,h6,d5,Ne5,Nxe5,dxe5,c3,Nf6,Nd2,Bc5+,Kh1,O-O,Nf3,Bg4,h3,Bh5,Qc2,Bd6,Be2,Bg6,Bd3,Nh5,Kh2,Ng3,Rf2,f6,Nd2,Bc5,Rf3,Qd6,b4,Bb6,Nc4,Qe7,Nxb6,cxb6,Qb3,Bf7,c4,Rfd8,a4,Bh5,Rf2,Bg6,c5,bxc5', 'd6+,Qf7,Bc4', 'https://lichess.org/training/er1fb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('er1lC', 'Blitz', 'bigger', 2013, 'Same63', 2073, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Nf3,Bb7,Bd3,O-O,O-O,Bxc3,bxc3,Ne4,Qc2,f5,Ne1,d6,f3,Nf6,Ba3,c5,d5,g6,dxe6,Qe7,e4,fxe4,fxe4,Qxe6,Bc1,Bxe4,Bxe4,Qxe4,Rxf6', 'Qxe1+,Rf1,Rxf1#', 'https://lichess.org/training/er1lC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('er38Y', 'Rapid', 'Boro-i-Ramiz', 2021, 'Damscientist', 2024, 'd4,Nf6,e3,e6,Bd3,d5,Nf3,Bd6,Ne5,Nbd7,f4,O-O,h4,c5,c3,b6,Nd2,Bb7,Ndf3,Re8,Ng5,Re7,g4,Nf8,Qc2,h6,Ngxf7,Rxf7,Nxf7,Kxf7,g5,Ne4,Qg2,Ng6,h5,Nf8,gxh6,gxh6,Rg1,Qf6,Qg8+,Ke8,Qg4,Rc8,Bd2,Rc7,O-O-O,cxd4,Bxe4,dxc3,bxc3,Rxc3+,Bxc3,Qxc3+,Bc2', 'Ba3+,Kb1,Qb2#', 'https://lichess.org/training/er38Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Er4H4', 'Blitz', 'Reintjan', 1601, 'Vitjok', 1585, 'd4,Nf6,Nf3,e6,Bg5,d5,e3,Be7,c4,Nbd7,Nc3,c5,cxd5,cxd4,Nxd4,Nxd5,Bxe7,Nxe7,Be2,O-O,O-O,a6,Bf3,Rb8,b4,b5,Rc1,Bb7,Bxb7,Rxb7,Nf3,Nf5,Nd4,Qg5,Ne4,Qg6,Nxf5,Qxf5,Nd6,Qg5,Nxb7,Ne5,Nd6,Rd8,Rc8,Rxc8,Nxc8,h5,Qd6,Nf3+,Kh1,Nh4,Qg3,Qd8,Rc1,Nf5,Qf3,Qd7,g4,hxg4,Qxg4,Qd5+,Kg1,Qd2,Rd1,Qxa2,Rd8+,Kh7,Qh5+,Nh6,Nb6,Qb1+,Kg2,Qxb4,Qf3,Nf5,Qh3+,Kg6,Qh8,Qg4+,Kf1,Nh4,Nd7,Qg2+,Ke2,Qf3+,Ke1,Ng2+,Kf1', 'Nxe3+,Ke1,Qd1#', 'https://lichess.org/training/Er4H4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('er8dT', 'Rapid', 'alorsdanse', 1914, 'tornikeM', 1917, 'e4,d5,exd5,Nf6,c4,c6,Nc3,cxd5,cxd5,Nxd5,Nf3,Bf5,Bb5+,Nc6,Qa4,Nb4,O-O,Bc2,b3,a6,Bxc6+,Nxc6,Ne5,Qc7,Nxc6,bxc6,Ba3,g6,Rac1,Bf5,Nd5,Qb7,Rfe1,Be6,Rxe6,fxe6,Rxc6,exd5,Rc8+,Kf7,Qf4+,Kg7,Qe5+,Kh6,Bc5,Qxc8', 'Be3+,g5,Qxg5#', 'https://lichess.org/training/er8dT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eracd', 'Blitz', 'GM gerrygm', 2568, 'vladpodat', 2430, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Qd3,Bb4,a3,Bxc3+,Qxc3,O-O,g3,Ne4,Qc2,b6,Bg2,Ba6,b3,Nd7,Bb2,Rc8,Ne5,Nxe5,dxe5,Nc5,O-O,dxc4,bxc4,Qc7,Rfd1,Rfd8,a4,Nb7,Be4,g6,Qc3,Rxd1+,Rxd1,Rd8,Rd6,Na5,Bd3,c5,h4,Nc6,e3,Kf8,Be4,Bb7,h5,Ke8,hxg6,hxg6,Qd2,Na5,Bxb7,Nxb7,Rxd8+,Qxd8,Qc2,Na5,f4,Qa8,e4,Qd8,Kf2,Nc6,Ke3,Qd7,Qh2,Kd8,Qh8+,Kc7,Qf8,Na5,Bc3,Nxc4+,Ke2,Kb7,g4,Na3,Qd6,Qxd6,exd6,Kc6,e5,a6,Kd3,b5,axb5+,axb5,Bd2,b4,Bc1,Nb5,Kc4,Nd4,Be3,b3', 'Bxd4,cxd4,Kxb3', 'https://lichess.org/training/eracd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ErAHd', 'Rapid', 'Insomnixx', 1991, 'LeonardVictor', 1915, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bb4,Bd3,O-O,O-O,c6,a3,Ba5,Re1,Bg4,b4,Bc7,Be2,Qd6,Ne5,Bxe2,Nxe2,Nbd7,Bf4,Qe7,Ng3,Rae8,Qd3,h5,Nf5,Qe6,h4,Ng4,Nxg4,Qxe1+,Rxe1,Rxe1+,Kh2,Bxf4+,g3,Bc7,Nge3,Nf6,Qd2,Ra1,Qc3,Rc1,Ng2,Ne4,Qf3,Rf1', 'Ne7+,Kh7,Qxh5#', 'https://lichess.org/training/ErAHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('erAUz', 'Rapid', 'chigorind07', 2033, 'Arbengjika', 2046, 'd4,d5,c4,Nf6,Nf3,e6,Nc3,dxc4,e4,Nc6,Bxc4,Bb4,Bg5,h6,Bh4,Be7,O-O,O-O,e5,Nd5,Bxe7,Ncxe7,g3,a6,a3,c6,Qd3,Nf5,Rad1,b5,Ba2,Ra7,Bb1,Rd7,g4,Nf4,Qc2,Rxd4,gxf5,Nh3+,Kh1,Rxd1,Rxd1,Qb6,Rd2,exf5,Nd1,Be6,Qd3,Bd5,Nc3', 'Nxf2+,Rxf2,Qxf2,Nxd5,cxd5', 'https://lichess.org/training/erAUz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('erbXE', 'Rapid', 'vania92', 2031, 'yada', 2037, 'd4,d5,e3,Nc6,a3,e5,c3,exd4,cxd4,Bf5,Nc3,Nf6,Nf3,Bd6,Bd3,Qd7,Bxf5,Qxf5,O-O,O-O-O,Nb5,Be7,Qa4,Kb8,Ne5,Qe6,Nxc6+,Qxc6,Qxa7+,Kc8,Qa5,Kd7,Bd2', 'Ra8,Qxc7+,Qxc7,Nxc7,Kxc7', 'https://lichess.org/training/erbXE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eRC6g', 'Classical', 'magnusotuedon', 2101, 'omer-1994', 2087, 'e4,c6,d4,d5,e5,Bf5,c4,e6,Nf3,Bb4+,Bd2,Qe7,a3,Bxd2+,Qxd2,Nd7,Nc3,f6,exf6,Ngxf6,Bd3,O-O,O-O,dxc4,Bxc4,b5,Bb3,Kh8,h3,Nd5,Nxd5,exd5,Rfe1,Qd6,Nh4,Be6,Bc2,Nf6,Re5,c5,Rae1,Ne4,Bxe4,dxe4,R1xe4,Bc4,Rxc5,Rad8,Qg5,Rde8,Nf5,Qd7,Rce5,Rxe5,Rxe5,g6,Qe7,Qxe7,Nxe7,Rd8,Nc6,Rd6,Re8+,Kg7,Nxa7,Rxd4,Re5,Rd1+,Kh2,Rd2,Nxb5,Rxb2,Nd6,Ba6,Ne4,Ra2,Ra5,Bd3,Nc5,Bc4,Kg3,h5,h4,Rc2,Ra7+,Kf6,a4,Rc3+,f3,Rc2,a5,Bf1,Ne4+,Kf5,Nf2,g5,hxg5,h4+,Kxh4,Rxf2,g4+,Kg6,Kg3,Rg2+,Kf4,Rb2,Re7,Rb4+,Kg3,Kxg5,Re5+,Kg6,Re1,Bb5', 'Re6+,Kf7,Rb6', 'https://lichess.org/training/eRC6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ERcJT', 'Blitz', 'Sgigaba', 1643, 'HenrikW', 1620, 'e4,e5,f4,d6,Nf3,Nc6,Nc3,Nf6,d3,Be7,Be2,O-O,O-O,exf4,Bxf4,Bg4,Bg5,h6,Bxf6,Bxf6,Rb1,Re8,Nd5,Bxf3,Rxf3,Bd4+,Kh1,Ne7,Nf4,c6,Qd2,b5,Rbf1,Rf8,b3,a5,Rg3,Kh7,Nh5,Ng6,Nf4,b4,Bh5,Nxf4,Qxf4,Be5,Qf5+,g6,Bxg6+,fxg6', 'Qxg6+,Kh8,Qxh6#', 'https://lichess.org/training/ERcJT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ErEuc', 'Rapid', 'desparza010', 1756, 'FischFryer', 1775, 'c4,Nf6,Nc3,d5,b3,c6,Nf3,e6,g3,Bd6,Bg2,O-O,d4,Re8,O-O,Nbd7,c5,Bc7,Bb2,e5,e3,e4,Nd2,Nf8,f3,exf3,Nxf3,Rxe3,Qd2,Re8,Rae1,Ne6,b4,Bd7,a4,b6,Ba3,bxc5,bxc5,Ba5,Rc1,Ne4,Qb2,Rb8,Qa1,Nxc3,Rxc3,Bxc3,Qxc3,Nf8,Ne5,Qe7,Rxf7,Rb1+,Bf1,Bh3,Rxe7', 'Rxf1#', 'https://lichess.org/training/ErEuc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EREWo', 'Rapid', 'Menmghn_Newn', 1830, 'hassotasso', 1864, 'e4,e5,f4,d5,exd5,Qxd5,Nc3,Qe6,fxe5,Qxe5+,Be2,Bd6,Nf3,Qe7,O-O,Nf6,Re1,Be6,d4,O-O,Bd3,c6,Bg5,h6,Be3,Qc7,h3,Nbd7,Qd2,Rfe8,Bxh6,gxh6,Qxh6,Bf8,Qh4,Bg7,Ng5,Nf8,Re3,Rad8,Rg3,Rxd4,Nce4,Qe5,Nxe6,Rxe6,Nxf6+,Qxf6,Qh5,Re5,Qd1,Rf4,Qd2,Rd5,Re1,Ne6,Qe2,Qd4+,Kh1,Kf8,c3,Qf6,Bc4,Re5,Re3,Rxe3,Qxe3,b6,Kh2,Bh6,Qd3,Rf2,Qd6+,Qe7,Qb8+,Kg7', 'Qg3+,Qg5,Qxf2', 'https://lichess.org/training/EREWo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ErFL0', 'Rapid', 'ziyad58', 1829, 'ymy60', 1836, 'e4,e5,Nf3,Nc6,Nc3,d6,Bb5,Bd7,d3,Nf6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be7,Qf3,Bg4,Qg3,Bd7,h3,Nd4,Bxd7+,Qxd7,O-O-O,O-O-O,h4,Rdg8,f3,Nh5,Qf2,Nf4', 'Bxf4,exf4,Qxd4', 'https://lichess.org/training/ErFL0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ErGnO', 'Rapid', 'kishore_s', 1608, 'jferreyra', 1620, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d4,exd4,cxd4,Nxe4,Bd5,Bb4+,Nbd2,Nxd2,Bxd2,Qe7+,Qe2,Bxd2+,Kxd2,Qxe2+,Kxe2,Ne7,Bc4,O-O,Kd2,d5,Bb5,c6,Bd3,Re8,Rhe1,Bg4,Ne5,Be6,Re2,Nc8,Rae1,Nb6,b3,Red8,a4,Nd7,Nxd7,Rxd7,h3,a6,g4,b5,f4,Rb7,f5,Bd7,Re7,bxa4,bxa4,Rb2+,Kc3,Rb7,f6,g5,Bf5,Rd8,Rb1,Rc7,Rb6,c5,Rxa6,cxd4+,Kxd4,Rc4+,Kxd5,Bb5+,Rd7', 'Rxd7+,Bxd7,Bxa6', 'https://lichess.org/training/ErGnO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eRgZY', 'Rapid', 'leaveamessage', 1860, 'elvin1', 1622, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,O-O,Qd7,f5,O-O-O,Nc3,Qe7,Nd5,Qe8,Bb5,a6,Ba4,b5,Bb3,Nd4,a4,c6,Nb6+,Kb7,a5,g6,c3,Nxf3+,Rxf3,Bxf3,Qxf3,gxf5,exf5,f6,d4,exd4,Be6,dxc3,Qxc3,Qh5,Bf4,Bh6,Qxc6+,Kxc6,Rc1+,Kb7,Bd5+,Ka7', 'Rc7+,Kb8,Rb7#', 'https://lichess.org/training/eRgZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('erHfM', 'Blitz', 'NM Gnechko_Ruslan', 2408, 'HannHagen', 2360, 'd4,Nf6,Bf4,c5,e3,e6,c3,b6,Nd2,Be7,Bd3,cxd4,exd4,Bb7,Ngf3,d6,Qe2,a6,a4,Nbd7,O-O,O-O,Rfe1,Re8,Ng5,Bf8,Nge4,Nxe4,Nxe4,Nf6,Bg5,Be7,a5,b5,Bd2,Nxe4,Bxe4,Bxe4,Qxe4,d5,Qg4,b4,cxb4,Rb8,Qe2,Qd6,Bc3,Rb5,g3,Reb8,h4,h6,Kg2,Qc6,Rac1,Qb7,Qg4,Bxb4,Qf4,Bxa5', 'Bxa5,Rxa5,Rc7,Qxc7,Qxc7', 'https://lichess.org/training/erHfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eRhJ0', 'Rapid', 'jeyanthkrishnan', 1803, 'Blancacapa', 1708, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,d4,cxd4,Nxd4,e5,Nf5,Qf6,Nc3,Ne7,Nxd6+,Kd8,Nxb7+,Kc8,Nd6+,Kd8,Be3,Nc6,Nf5,g6,Nd5,Qe6,Bg5+,Kc8,Nfe3,f6,Bh4,g5,Bg3,Nd4,c3,Nb5,Qa4,a6,Qc4+,Kd8,a4,Rc8,Qe2,Nd6,Qxa6,Nc5,Qb6+,Ke8,Nc7+,Rxc7,Qxc7,Nd3+,Kd2,Nf4,Bxf4,gxf4,Qc6+,Kf7,Nf5', 'Nc4+,Qxc4,Qxc4', 'https://lichess.org/training/eRhJ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('erhWz', 'Classical', 'SAI_PRANEETH', 1618, 'bizkarrondo', 1689, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nf6,Qf3,Bg4,Qg3,a6,h3,Bf5,Bd3,Ne4,Qf3,Nxc3,Bxf5,Nb5,Bd2,Nxd4,Qd3,Nbc6,Bg4,e6,O-O-O,Rc8,c3,Qa5,Kb1,Nf5,Bxf5,exf5,Nf3,Be7,Qxf5,O-O,c4,Qb6,Be3,Bc5,Bxc5,Qxc5,cxd5,Ne7,Qd3,Qxf2,Ng5,Ng6,d6,Qxg2,d7,Rcd8,h4,h6,Ne4,Ne5,Qd5,Nxd7,Qxb7,Rb8', 'Nf6+,Nxf6,Qxg2', 'https://lichess.org/training/erhWz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eRiAc', 'Rapid', 'Cyclist_Elisey', 1848, 'COLLO8348', 1851, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Nge7,Nc3,Ng6,d3,Be7,Be3,O-O,a3,a6,d4,b5,Ba2,cxd4,Nxd4,Bb7,Nxc6,Bxc6,f3,d5,exd5,exd5,Bf2,d4,Ne2,Bf6,Nxd4,Bb7,c3,Rc8,Qc2', 'Bxd4,Bxd4,Qxd4+,cxd4,Rxc2', 'https://lichess.org/training/eRiAc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eRjSL', 'Rapid', 'g2fianchetto', 2223, 'xi_32_1111', 2177, 'd4,d5,c4,dxc4,a4,e5,d5,Nf6,Nc3,Bb4,Bd2,O-O,Nf3,e4,Ne5,Bxc3,Bxc3,Nxd5,e3,Nxc3,bxc3,Qf6,Nxc4,Nc6,Qc2,Be6,Be2,Nb4,Qb2,Nd3+,Bxd3,exd3,Nd2,Bd5,O-O,Qg6,f3,c5,Qb5,Rac8,e4,a6,Qxd3,Rfd8,Qe3,Re8,Qf4,Bc6,Nc4,Rcd8,Rfb1,Qe6,Ne5', 'Qxe5,Qxe5,Rxe5', 'https://lichess.org/training/eRjSL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eRL7M', 'Rapid', 'QWERTZASD', 1733, 'Ffe', 1669, 'e4,c5,c4,Nc6,Nc3,g6,d3,Bg7,Nf3,Nf6,Be2,O-O,O-O,a6,h3,Rb8,Rb1,b5,b3,bxc4,dxc4,e6,Bg5,Qc7,Qd2,Bb7,Bf4,e5,Bh2,d6,Nd5,Nxd5,cxd5,Nd4,Nxd4,exd4,f4,Qe7,Bd3,Rbe8,Rbe1,Qd8,Bc4,f5,e5,dxe5', 'd6+,Kh8,fxe5', 'https://lichess.org/training/eRL7M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ErMwh', 'Rapid', 'HS22', 2039, 'ChessMagic20', 2034, 'e4,e5,Bc4,Nc6,d3,Nf6,Bg5,Be7,Nf3,d6,h3,O-O,Nc3,Re8,Bxf6,Bxf6,Nd5,Na5,Bb3,Nxb3,axb3,c6,Nxf6+,Qxf6,Nh2,Qg6,Qf3,f5,exf5,Bxf5,O-O,Rf8,Qg3,Qe6,Nf3,Qh6,Nh4,Be6,Nf3,Rf6,Kh2,Raf8,Rxa7,Bd5,Ng5,Rg6,h4,c5,Kg1,Qh5,Qh3,h6,Ne4,Rg4,g3,Bxe4,dxe4,Rxe4,Qe6+,Qf7,Qxd6,Rd4,Qxe5,Rd7,Qxc5,Rd2,Ra4,Rxc2,Qxc2,Qf3,Rf4,Rxf4,gxf4,Qg4+,Kh2,Qxh4+,Kg2,Qg4+,Kh2,Qxf4+,Kh3,Qf3+,Kh4', 'g5#', 'https://lichess.org/training/ErMwh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ErNQd', 'Classical', 'olgunsmv', 1658, 'asigolu', 1623, 'e4,e5,Bc4,Nf6,Nc3,Bb4,Nf3,d6,Nd5,Nxd5,Bxd5,O-O,O-O,c6,Bb3,Na6,c3,Bc5,Qc2,Bg4,d4,exd4,cxd4,Bxf3,dxc5,Nxc5,e5,Be4,Qc3,Nxb3,axb3,dxe5,Qxe5,Bd5,Ra3,Qh4,Ra4,Rfe8', 'Qxe8+,Rxe8,Rxh4', 'https://lichess.org/training/ErNQd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('erohI', 'Blitz', 'Sanspif', 1560, 'nowszy94', 1629, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nxe4,Qe2,Qe7,Bxg7,Rg8,Bh6,Rg6,Bf4,Nd6,O-O-O,Qxe2,Bxe2,Bb7,Bxd6,cxd6,g3,c5,Rhe1,Kf8,Bh5,Rh6,g4,Bf3,Rd3,Bc6,Red1,d5,f4,f5,Rh3,fxg4,Bxg4,Rxh3,Bxh3,d4,Bf5,h6,Rg1,Re8,Rg6,h5,Rh6,Bf3,Bxd7,Re7,Bf5', 'Re1+,Kd2,Rd1#', 'https://lichess.org/training/erohI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eRPVP', 'Rapid', 'aruo', 1993, 'grynhorn', 2080, 'd4,Nf6,c4,c5,Nc3,cxd4,Qxd4,g6,Nf3,Bg7,Bf4,Nc6,Qd2,d6,e4,O-O,Be2,Qa5,O-O,Re8,a3,Bg4,b4,Qb6,Be3,Qd8,h3,Bxf3,Bxf3,Ne5,Be2,Rc8,Qa2,Nfd7,Rac1,Nb6,Nd5,Nxd5,exd5,b6,Rfd1,Qc7,c5,bxc5,bxc5,dxc5,Bxc5,Qb7,Rb1,Qa8,Be3,Rb8,f4,Rxb1,Rxb1,Nd7,Bf3,Qc8,Rc1,Qa6,Rc7,Nb6,d6,Qd3,Rxe7', 'Rxe7,dxe7,Qxe3+', 'https://lichess.org/training/eRPVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ErQdm', 'Rapid', 'benjack', 1805, 'decelerateddragon', 1752, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d6,a3,a6,c3,O-O,b4,Ba7,h3,Nd7,Bg5,Qe8,Nh4,Nb6,Ba2,Be6,Nf5,f6,Be3,Bxa2,Rxa2,Rd8,Qg4,Qg6,Qe2,d5,Bc5,Rfe8,Nd2,Na4,Rc2,Nxc5,bxc5,Bxc5,Nf3,Qh5,Kh2,g6', 'g4,gxf5,gxh5', 'https://lichess.org/training/ErQdm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ERqfU', 'Blitz', 'Harrybrave', 1758, 'Keylack', 1700, 'b3,c6,Bb2,d5,e3,Bf5,g3,Nf6,Bg2,e6,Nf3,Bd6,a3,Nbd7,O-O,e5,d3,e4,Nd4,Bg4,f3,exf3,Nxf3,O-O,Nbd2,Ne5,Qe1,Nxf3+,Nxf3,Re8,b4,Qb6,d4,Qc7,Bc1,Nh5,Ne5,Bxe5,dxe5,Qxe5,Bd2,Re7,Qf2,Rae8,Rae1,Qb2,Bc1,Qc3,e4,dxe4,Rxe4,Rxe4', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/ERqfU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eRrDy', 'Rapid', 'dKoco', 1894, 'sashakochurka', 1901, 'e4,e6,d4,c6,c4,d6,Nc3,Ne7,Nf3,Ng6,Bd3,Be7,O-O,O-O,h3,f5,exf5,exf5,Qb3,Kh8,Re1,Nh4,Nxh4,Bxh4,Bf4,Bf6,d5,g5,Bh2,Bd4,Re2,f4,Rae1,a6,Re7,Bg7,Qc2,Nd7,Bxh7,Ne5,Rxg7,Kxg7,Rxe5,dxe5,Qg6+,Kh8,Qh6,Qf6', 'Bg6+,Kg8,Qh7#', 'https://lichess.org/training/eRrDy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ERRsO', 'Rapid', 'mohamedabdelgawad', 1830, 'lorgum', 1785, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,Nf6,d3,Be7,O-O,O-O,Ng5,a6,f4,b5,Bb3,Nbd7,f5,h6,fxe6,hxg5,exd7,Bxd7,Bxg5,a5,a3,b4,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/ERRsO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('erSLG', 'Rapid', 'Ammarzidan1974', 1886, 'deadmask', 1889, 'e4,e5,f4,d6,Nf3,Nc6,c3,Bg4,Bc4,exf4,d4,Nf6,Nbd2,d5,exd5,Nxd5,O-O,Ne3,Qe2,Be7,Re1,Qd7,b4,h5,b5,Na5,Bxf7+,Kxf7,Ne5+,Ke8,Qd3,Qe6,Ne4,Nac4,Bxe3,Nxe5,dxe5,fxe3,Rxe3,Rd8,Qc2,Qxe5,Rae1,Kf7,Qf2+,Kg6,h3,Bd6,Nxd6,Qxd6,hxg4,Kh7,Qc2+,g6,gxh5,Kg7,Re7+,Kf8,Qf2+,Kg8,Re8+,Rxe8,Rxe8+,Kg7,Rxh8,Kxh8,h6,Kh7,Qh4,Qd1+,Kh2,Qh5,g3,Kxh6,Qxh5+,Kxh5,Kg2,Kg4,a4,g5,c4,b6,Kf2,Kh3', 'Kf3,Kh2,Kg4,Kg2,Kxg5', 'https://lichess.org/training/erSLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ERT7f', 'Rapid', 'Sipo', 1935, 'fhBgjd', 1745, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,d6,Nc3,a6,Bc4,Nf6,Bb3,Nbd7,f3,Be7,Be3,b5,Qd2,Bb7,O-O-O,Nc5,Kb1,Nxb3,Nxb3,O-O,g4,Nd7,h4,Ne5,Qe2,Nc4,Bf2,Qc7,f4,d5,exd5,exd5,Nxd5,Bxd5,Rxd5,Qxf4,Rf5,Qc7,Qf3,Bf6,g5,Bxb2,Bc5,Rfe8,Rf1,a5,Rxf7,Qe5,Rf8+,Rxf8', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/ERT7f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ErtCF', 'Blitz', 'THE_WARRIOR2', 1907, 'esskeetit20', 1783, 'd4,d5,Bf4,Bf5,Nf3,e6,e3,c5,Ne5,cxd4,exd4,Nc6,c3,Nxe5,Bxe5,Bd6,Bxg7,Qg5,Bxh8,Nf6,Bxf6,Qxf6,Bd3,Bxd3,Qxd3,O-O-O,O-O,Kb8,Nd2,Rg8,g3,h5,Qf3,Qg6,Nb3,h4,Kh1,hxg3,fxg3,Rh8,Qxf7,Qxg3,Rf2', 'Rxh2+,Rxh2,Qxh2#', 'https://lichess.org/training/ErtCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Erui2', 'Blitz', 'Prosto_Lara_19', 2030, 'tusito', 2027, 'e3,d5,d3,c5,b3,Nc6,Bb2,e5,g3,Bd6,Bg2,Nge7,Nc3,Be6,Qd2,O-O,O-O-O,f5,f4,d4,Nce2,a5,Kb1,a4,Nf3,axb3,cxb3,Nb4,fxe5,Rxa2,exd6,Qa5,dxe7,Ra8,exd4', 'Ra1+,Bxa1,Qxa1#', 'https://lichess.org/training/Erui2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ErVfH', 'Rapid', 'KnightMath', 2159, 'ayman111', 2124, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Qc7,Bd2,Bd7,Qg4,Ne7,Bd3,c4,Be2,O-O,Nf3,Nbc6,O-O,f5,Qh3,f4,Ng5,h6,Nxe6,Qc8,Bg4,Nd8,Nxf8,Bxg4,Qh4,Kxf8,Bxf4,Ng6,Qg3,Nxf4,Qxf4+,Qf5,Qxf5+,Bxf5,Rab1,b6,Rb5,Be6,f4,Nb7,f5,Bg8,e6,Rd8,Re1,Ke7,Re5,Rd6,Rexd5,Bh7,g4,h5,h3,hxg4,hxg4,g6,Kf2,gxf5,gxf5,Rxd5,Rxd5,Nd6,Kf3,Bxf5,Kf4,Bxc2', 'Ke5,Nf7+,exf7', 'https://lichess.org/training/ErVfH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ERWbX', 'Rapid', 'ioxim26', 1612, 'am32', 1671, 'd3,d5,Nd2,Nc6,g3,h6,Bg2,Nf6,e4,dxe4,Nxe4,Bf5,Nxf6+,gxf6,Be3,Qd6,Ne2,O-O-O,d4,Qb4+,c3,Qxb2,O-O,e6,Bxc6,bxc6,a4,c5,Rb1,Bxb1,Qxb1,Qxb1,Rxb1,cxd4,Bxd4,e5,Bxa7,Bd6,c4,c5,Nc3,Kd7,Nd5,Ke6,Bb6,Rdg8,a5,f5,a6,f4,Ra1,h5,a7,h4,Bc7,hxg3,Bxd6,gxh2+,Kh1,Kxd6', 'Ra6+,Kd7,Nf6+', 'https://lichess.org/training/ERWbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eRWqt', 'Rapid', 'PoppaSmurf', 1622, 'ikke_newt', 1769, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nb4,O-O,c6,Re1,Bd6,d4,Nxc2,Qg4+,Kf7,Qf3+,Ke8,Qh5+,g6,Rxe5+,Bxe5', 'Qxe5+,Qe7,Qxh8+', 'https://lichess.org/training/eRWqt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ErxPV', 'Rapid', 'iamkiranantony', 1681, 'knightdriver', 1698, 'd4,d5,Bf4,Nf6,Nc3,e6,e3,Be7,a3,O-O,Nb5,Bd6,Nxd6,cxd6,c3,Re8,Bd3,e5,Bg3,e4,Bc2,Qb6,b4,a5,Bb3,axb4,axb4,Rxa1,Qxa1,Nbd7,Bxd5,Nxd5,Qa2,Nxc3,Qb3,Nb5,Ne2,Nf6,Nf4,Nc7,O-O,Nfd5,Nxd5,Nxd5,Qxd5,Qxb4,Bxd6,Be6', 'Qxe6,Rxe6,Bxb4', 'https://lichess.org/training/ErxPV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('es0RW', 'Blitz', 'Serb7528Year', 1897, 'mattyice33', 2480, 'f4,d5,c4,dxc4,e4,Nf6,Bxc4,Nxe4,Qa4+,Nc6,Bxf7+,Kxf7,Qxe4,Qd4,Qe2,Qc5,Na3,Nd4,Qe3,g6,b4,Qd5,Bb2,Bg7,O-O-O,a5,b5,Be6,Nh3,Ne2+,Qxe2,Bxb2+,Kc2,Bf5+,Kxb2', 'Qd4+,Kc1,Qa1+,Nb1,Qxb1#', 'https://lichess.org/training/es0RW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Es1Zw', 'Rapid', 'chetmanley', 1715, 'sys64738', 1648, 'd4,c5,Nf3,cxd4,Nxd4,Nf6,Bg5,e5,Nf3,Bc5,Nbd2,Bxf2+,Kxf2,Ng4+,Ke1,Qb6,Ne4,d5,Qxd5,O-O,h3,Qxb2,Rd1,Be6,Qd2,f5,Nc5,Qb6,hxg4,Qxc5,gxf5,Bxf5,Be3,Qe7,Qd5+,Be6,Qxe5,Nc6,Bc5,Nxe5,Bxe7,Nxf3+,gxf3,Rf7,Bb4,Bxa2,Bh3,a5,Ba3,b5,Rd7,Rf6,Rg1,g6,Bb2,Rc6,Rg7+,Kf8,Kd1,Rd8+,Kc1,Bc4,Rg4,Bxe2,Rf4+,Ke8,Rg8+,Ke7,Bf6+,Rxf6,Rxf6', 'Rd1+,Kb2,Kxf6', 'https://lichess.org/training/Es1Zw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('es6xk', 'Classical', 'Beniya_Igor', 1811, 'xeroxx', 2054, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,Qe7,d3,Qxe5,Qxe4,Qxe4+,dxe4,Bc5,Bf4,d6,Nc3,a6,Bc4,Bd7,f3,f6,Nd5,Kd8,O-O-O,Nc6,a3,h5,h4,b5,Be2,Nd4,Bd3,Ne6,Be3,Bxe3+,Nxe3,Nc5,Be2,Be6,c4,Rb8,cxb5,axb5,b4,Na4,Rd2,Ke7,Bd1,Nb6,Rd4,Nc4,Nxc4,Bxc4,Kb2,c5,bxc5,dxc5,Rd2,Rhd8,Rf2,b4,a4,Rd3,Bc2,Ra3,Ra1,Re3,a5,b3,Bd1,Ba6,Rd2,c4,Rc1,f5,exf5,Re5,Re2', 'c3+,Rxc3,Bxe2', 'https://lichess.org/training/es6xk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('es7V5', 'Blitz', 'FM WB2019', 2443, 'Ralph74', 2293, 'g3,b6,Bg2,d5,Nf3,e6,O-O,Nf6,d3,Be7,Nbd2,Bb7,Re1,O-O,e4,dxe4,dxe4,c5,c3,Nc6,Qc2,Qc7,Nc4,e5,Bg5,Ba6,Ne3,Rad8,Bxf6,Bxf6,Nd5,Qd6,Rad1,Bc4,Nxb6,axb6,Rxd6,Rxd6,b3,Be6,Rd1,Rfd8,Rxd6,Rxd6,Bf1,h6,Bc4,Bxc4,bxc4,Bg5,Kf1,f6,h4,Bxh4,Nxh4,Na5,Nf5,Rd7,Ke2,Nxc4,Qb3,b5,Ne3,Rd2+,Ke1,Rb2,Qd1,Nxe3,fxe3,c4,Qd5+,Kh7,Kd1,Kg6,Kc1,Rxa2,Qxb5,Rg2,Qxc4,Rxg3,Qd3,h5,c4,h4,c5,h3,Qe2', 'Rg1+,Kd2,Rg2', 'https://lichess.org/training/es7V5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('es9y1', 'Rapid', 'XAT123', 1811, 'ysysharma63', 1792, 'd4,d5,c4,Nf6,Nc3,c5,cxd5,Nxd5,dxc5,e6,Nxd5,exd5,Nf3,Bxc5,e3,Nc6,Bb5,Bg4,Qc2', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/es9y1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Esa3j', 'Rapid', 'hany3zal', 1653, 'matcgn', 1628, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,c4,Nc6,cxd5,Qxd5,Nc3,Bxf3,Nxd5,Bxd1,Nc7+,Kd7,Nxa8,Bg4,f3,Nxd4,fxg4,Nc2+,Kd2,Nxa1,Bb5+,Kc8,b3,Nf6,Bb2,Nxb3+,axb3,Kb8,Rc1,Nd5,Bc4,Nb4,Ba3,Nc6,Bb5,Kxa8,Bxc6,bxc6,Rxc6,Kb7,Rc4,e6,Bxf8,Rxf8,Rf4,h6,h4,f6,h5,Rf7,Re4,e5,g3,a6,Rb4+,Kc6,Rc4+,Kb5,Kd3,Rd7+,Ke4,a5,Kf5,Rd4,Rc7,Kb4,Rxg7,Kxb3,Rg6,a4,Rxh6', 'a3,Rxf6,a2', 'https://lichess.org/training/Esa3j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Esaum', 'Rapid', 'ckmate777', 1775, 'oleg_shishkovskii', 1701, 'e4,e5,Nf3,Nf6,Bc4,Bc5,O-O,O-O,d3,d6,Bg5,Bg4,h3,Bh5,g4,Bg6,c3,h6,Bh4,Bh7,g5,hxg5,Bxg5,Nbd7,a3,c6,b4,Bb6,Nbd2,a5,Kh2,Qc7,Be3,c5,b5,Ba7,Ng5,b6,f4,exf4,Bxf4,Ne5,Bd5,Nxd5,Bxe5', 'Ne3,Qf3,Nxf1+', 'https://lichess.org/training/Esaum');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eSbCl', 'Rapid', 'wgcdr', 1889, 'ubode', 1908, 'e4,c5,Nc3,Nc6,Bc4,Nf6,d3,d6,Bg5,g6,Bxf6,exf6,Nge2,f5,O-O,Bg7,Bd5,Ne7,Bb3,fxe4,dxe4,O-O,Rb1,Nc6,Nd5,Na5,c4,Re8,Ng3,Be5,f4,Bd4+,Kh1,Be6,Ne2,Nxb3,Qxb3,Bxd5,cxd5,Rxe4,Nxd4,Rxd4,Rbe1,b6,f5,Qg5,fxg6,hxg6,Rf3,Qxd5,Qc2,Rd2,Qc1,Rf8,Ref1,Qg5,Rg3,Qd5,Qc3,Qd4,Qf3,d5,Rg4,Qxb2,Qh3,Qh8', 'Rxg6+,fxg6,Rxf8+,Kxf8,Qxh8+', 'https://lichess.org/training/eSbCl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('esCCa', 'Rapid', 'Aksell', 1920, 'litning9', 1928, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,Bd2,Qc7,Bd3,Bg4,h3,Bh5,Qe2,e6,O-O-O,Nbd7,g4,Bg6,Nh4,O-O-O,f4,Bxd3,Qxd3,Bd6,Ng2,Rhe8,g5,Nd5,Nxd5,cxd5,Qxh7,Rg8,h4,Qc4,b3,Qxd4,Ba5', 'Ba3+,Kb1,Qb2#', 'https://lichess.org/training/esCCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EScsI', 'Rapid', 'apollo017', 1889, 'kindruk', 1816, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Qf6,e5,Qg6,Bd3,Qxg2,Be4,Qg5,Nc3,c6,f3,Qh4+,Kd2,Qf4+,Ke2,Ne7,e6,Nf5,exf7+,Kxf7', 'Bd5+,cxd5,Qxf4', 'https://lichess.org/training/EScsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ESeuG', 'Rapid', 'ildeniz06', 1817, 'aralov', 1778, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,Nc3,Be7,Be2,O-O,O-O,Bg4,h3,Bh5,Be3,Nc6,d4,Re8,d5,Ne5,Nxe5,Bxe2,Nxe2,dxe5,c4,b5,cxb5,Qxd5,Nc3,Qxd1,Raxd1,a6,bxa6,Rxa6,a3,Rd8,Rxd8+,Bxd8,Rd1,Be7,Nb5,c6,Nd6,Bxd6,Rxd6,Kf8,Bc5,Ke8,Rd1,Ne4,Be3,Ra8,f3,Nf6,Rd6,Rb8,b4,c5,Bxc5,e4,a4,exf3,gxf3,Ra8,a5,Nh5,Bb6,Nf4,Kh2,Ne2,b5,Nc3,Rd3,Nxb5,Rb3,Nd6,a6,Rxa6,Bc5,Kd7,Bxd6,Rxd6,Rb7+,Ke6,Kg3,f5,Rxg7,h5', 'Rg6+,Kd5,Rxd6+,Kxd6,Kf4,Ke6,Kg5', 'https://lichess.org/training/ESeuG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EsF7o', 'Blitz', 'Andrera72', 1985, 'zenzsei', 1943, 'e4,c6,Nf3,d5,d3,dxe4,Ng5,exd3,Bxd3,Nf6,Nxf7,Kxf7,Bg6+,hxg6,Qxd8,Be6,Qc7,Nbd7,Qxb7,Rb8,Qxa7,Rb5,O-O,Rbh5,h3,Bxh3,gxh3,Rxh3,f3,Ne5,Nd2,Nd5,Kf2,Nb4,Qc5,Rh2+,Ke1,Nd5,c4,e6,Qa5', 'Nd3+,Kd1,Ne3#', 'https://lichess.org/training/EsF7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('esFah', 'Rapid', 'GuilhermeParizotto', 1967, 'SergeiKoch', 1955, 'd4,d5,Nf3,Nc6,Bg5,Nf6,e3,Bg4,h3,Bxf3,Qxf3,Ne4,Bf4,e5,dxe5,Nb4,Bd3,Nc5,Qe2,d4,O-O,Qe7,exd4,Nbxd3,cxd3,Ne6,Qf3,O-O-O,Be3,Nxd4,Bxd4,Rxd4,Qf5+,Qd7,Qxd7+,Rxd7,Rd1,Bb4,Nc3,Bc5,Ne4,Bd4,Rab1,Bxe5,Nc5,Rd5,b4,b6,Na6,Rhd8,Rb3,Kb7,b5,h5,a4,c5,Re1,f6,f4,Bxf4,Re7+,R8d7,Re8,g5,Rf8,Rd4,a5,c4,dxc4,Rd1+,Kf2,R7d2+,Kf3,Rf1+,Ke4,Re2+,Kd5', 'Rd1+,Rd3,Rxd3#', 'https://lichess.org/training/esFah');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ESFWB', 'Rapid', 'bighelmet', 1849, 'olin', 1826, 'd4,Nf6,Nc3,g6,Bf4,d6,e4,Nbd7,Bd3,c5,dxc5,Nxc5,g3,Nxd3+,Qxd3,Bg7,e5,Nh5,exd6,Nxf4,gxf4,exd6,O-O-O,O-O,Qxd6,Qxd6,Rxd6,Bxc3,bxc3,b6,Nf3,Bb7,Rd3,Rae8,Re1,Rc8,Re7,Bxf3,Rxf3,a5,Rb7,Rc6,Kb2,a4,Ka3,Rfc8,Kb4,Rc4+,Kb5,a3,f5,Rxc3,Rf4,Rxc2,fxg6,Rxa2,Rfxf7', 'Rb2+,Ka6,Ra8+,Ra7,Rxa7+', 'https://lichess.org/training/ESFWB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EsGF2', 'Rapid', 'AlexSkyfall', 1734, 'sergio2324567', 1628, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c3,d6,d4,exd4,Nxd4,Bd7,Bd3,Nxd4,cxd4,d5,Nc3,c6,b3,Be6,Ba3,Ng6,exd5,cxd5,Bxf8,Nxf8,Qe2,Nd7,Nxd5', 'Qa5+,Kf1,Qxd5,Bc4,Qxd4', 'https://lichess.org/training/EsGF2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('esGuC', 'Rapid', 'JohnSilver18', 1989, 'KiselevV', 2063, 'e4,e5,Nf3,Nc6,a3,Be7,Bc4,Nf6,Nc3,O-O,d3,d6,h3,Be6,Nd5,Bxd5,exd5,Nd4,Bg5,c6,Qd2,b5,Ba2,c5,O-O,Nxf3+,gxf3,Qd7,Kh2,Nh5,Rg1,Bxg5', 'Qxg5,g6,Qxh5', 'https://lichess.org/training/esGuC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eSgZO', 'Rapid', 'youra12', 1672, 'IL7', 1685, 'd4,d5,c4,e5,dxe5,d4,e4,Nc6,Bd3,Nxe5,Bc2,Nxc4,Nf3,Bb4+,Nbd2,Nxd2,Nxd2,Nf6,Bd3,Bg4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/eSgZO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eSHvd', 'Rapid', 'Jovic16', 1787, 'KingFurio', 1783, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,f5,exf5,Bxf5,Nxe5,Qe7,Qe2,O-O-O,O-O,Bxc2,Nc3,Nf6,Re1,Re8,Nf3,Ne4,d3,Nxc3,Qxe7,Rxe7,bxc3,Bxd3,Be3,Re8,Rad1,Bg6,Bd4,Bd6,Bxg7,Rhg8,Rxe8+,Bxe8,Be5,Bd7,Bxd6,cxd6,Rxd6,Bxh3,g3,Kc7,Rd4,Rg4,Rxg4,Bxg4,Kg2,b5,Ne5,Be6,a3,Kd6,f4,Kd5,Kf3,h5,Ke3,c5,Kd3,a5,c4+,bxc4+,Nxc4,Bf5+,Kc3,a4,Nb6+,Ke4,Nxa4', 'Kf3,Nxc5,Kxg3', 'https://lichess.org/training/eSHvd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ESih1', 'Blitz', 'CM Cisterciense', 2379, 'Positional_game', 2327, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bc4,e6,Nf3,Be7,O-O,O-O,Re1,b6,Bg5,Bb7,h3,Nc6,Qd2,Nb4,Ne5,Nbd5,Rad1,Nxc3,Qxc3,Ne4,Bxe7,Qxe7,Qf3,Nd6,Qe2,Nxc4,Qxc4,Qg5,f3,Rac8,Nc6,Bxc6,Qxc6,a5,Re5,Qd8,d5,Re8,Rde1,Qd6,Qc4,Rcd8,dxe6,fxe6,Rxe6,Rxe6,Qxe6+,Qxe6,Rxe6,Rd2,Rc6,Rd7,Kf2,Kf7,Ke3,Re7+,Kf4,Ke8,Rc3,Kd7,Rd3+,Kc8,Re3', 'g5+,Kg3,Rxe3', 'https://lichess.org/training/ESih1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ESjQs', 'Rapid', 'wieczyslaw', 1620, 'gazopeter', 1724, 'd4,d5,e3,Nf6,Nf3,h6,Be2,e6,O-O,Bd6,c4,dxc4,Bxc4,Nc6,Nc3,a6,e4,Nh7,e5,Be7,Ne4,O-O,h3,f5,Ng3,Ng5,Nxg5,Bxg5,f4,Bh4,Nh5,Qxd4+,Qxd4,Nxd4,Bd2,b5,Bd3,c5,b3,Bb7,Rac1,Rac8,Kh2,Rfd8,Be1,Bxe1,Rcxe1,Nxb3,Bxf5,Nd4,Bg4,c4,Ng3,c3,Ne4,Bxe4,Rxe4,c2,Rc1,a5', 'Rxd4,Rxd4,Bxe6+,Kf8,Bxc8', 'https://lichess.org/training/ESjQs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Esjts', 'Rapid', 'arunkuchik', 1642, 'gendrikh', 1613, 'e4,e5,Bc4,Nf6,d3,Bc5,Bg5,h6,Bh4,Nc6,h3,O-O,Nf3,g5,Bg3,d6,a3,a6,Nc3,Nd4,Nd5,Nxd5,Bxd5,c6,Ba2,Qf6,c3,Ne6,Qe2,Nf4,Bxf4,Qxf4,g3,Qf6,g4,b5,O-O-O,a5,Kb1,b4,d4,exd4,cxd4,Bb6,a4,Ba6,Bc4', 'Bxc4,Qxc4,Qxf3', 'https://lichess.org/training/Esjts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EsKhS', 'Rapid', 'Akibamate', 2109, 'Benson18', 1932, 'd4,Nf6,c4,c5,d5,d6,Nc3,g6,e4,Bg7,h3,O-O,Bd3,e6,Bg5,exd5,cxd5,Nbd7,Nf3,a6,Qd2,b5,Bc2,Re8,O-O,Qc7,Rae1,c4,Re3,Nc5,Rfe1,b4,Na4,a5,e5,c3,exf6,cxd2,Rxe8+,Bf8,Rxf8+,Kxf8', 'Bh6+,Kg8,Re8#', 'https://lichess.org/training/EsKhS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eSmDc', 'Rapid', 'dewreck', 1612, 'Panga256', 1650, 'e4,c5,c4,Nc6,d3,g6,Nc3,Bg7,Bd2,b6,a3,Bb7,Be2,Nd4,Nf3,e5,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/eSmDc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('esmhl', 'Classical', 'AzimowNurali03', 1784, 'Jeanlepeki', 1766, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,Be2,Bf5,O-O,e6,h3,Bd6,Nh4,Nbd7,Nxf5,Qxf5,Bd3,Qa5,Ne2,O-O,Bf4,Bxf4,Nxf4,Nd5,Nxd5,exd5,c3,Rfe8,Re1,Nf6,Rxe8+,Rxe8,Qc2,Qc7,Qd2,Ne4,Bxe4,Rxe4,Re1,Qe7,Rxe4,Qxe4,Kh2,f5,Qe3,h5,Qxe4,fxe4,Kg3,g5,h4,g4,Kf4,Kf7,Kg5', 'g3,fxg3,e3', 'https://lichess.org/training/esmhl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EsMwg', 'Rapid', 'janrox', 1658, 'AmjAli', 1640, 'd4,Nf6,Nf3,d5,c4,c6,Bg5,Bf5,Bxf6,exf6,e3,Na6,a3,Be7,Nc3,Qa5,Qd2,Nb4,cxd5', 'Nc2+,Kd1,Nxa1', 'https://lichess.org/training/EsMwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EsNFh', 'Rapid', 'weichi', 2277, 'greekthefreek', 2302, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Qa5,Bd2,Qa4,Qg4,Kf8,Qd1,b6,Nf3,Ne7,Bd3,Ba6,O-O,Bxd3,cxd3,Qxd1,Rfxd1,cxd4,Nxd4,Nbc6,Nxc6,Nxc6,c4,dxc4,dxc4,Nxe5,Bf4,Nxc4,Rd7,g5,Bxg5,Kg7,Rad1,Nxa3,Bf4,Nc4,R1d3,h6,Rg3+,Kf6,Rf3,Ne5,Bxe5+,Kxe5,Rfxf7,a5,f4+,Ke4,Kf2,a4,f5,a3,fxe6,a2,Rf3,Rhf8,e7,Rxf3+,gxf3+,Kf4,Rd4+,Kf5,Rd8', 'a1=Q,e8=Q,Ra2+,Qe2,Rxe2+', 'https://lichess.org/training/EsNFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('esnmq', 'Rapid', 'MdDNMEZ', 1647, 'lou17', 1729, 'd4,e6,e4,d5,e5,c5,c3,Qa5,Nf3,cxd4,Nxd4,Bd7,Bd3,Ne7,Qh5,Nf5,Nxf5,exf5,O-O,Be6,Re1,Be7,Bxf5', 'g6,Bxg6,fxg6', 'https://lichess.org/training/esnmq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eSofD', 'Rapid', 'Karn123', 1629, 'SRAI4', 1626, 'e4,g6,g3,Bg7,Bg2,e5,c3,Nf6,d4,exd4,cxd4,O-O,Nc3,Re8,e5,d6,Nf3,Nc6,O-O,dxe5,d5,e4,Ng5,Nb8,Ngxe4,Nxe4,Nxe4,Bf5,f3,Bxe4,fxe4,Nd7,Rb1,Nc5,Qf3,Qe7,Re1,Bd4+,Kh1,Qe5,Bf4,Qe7,Bxc7,Qxc7,Red1,Bg7,Rbc1,Qd6,Rf1,Nxe4,Qxf7+,Kh8,Qxb7,Rab8,Qxa7,Rxb2,Rf7,Rg8,Bxe4,Qb4,Bg2,Qd2,Rg1,Rxa2,Qb7,Rb2,Qc6,Bd4,Qd7,Bg7,d6,Rb6,Bc6,Qc3,Rxg7,Rxg7', 'Qd8+,Rg8,Qxb6', 'https://lichess.org/training/eSofD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('esoYm', 'Blitz', 'RACHIDOVE', 2112, 'CM JaymeMiranda', 2235, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Nd7,Nc3,Ngf6,Bc4,g6,Nf3,Bg7,d4,O-O,O-O,Nb6,Bb3,Nbxd5,Nxd5,Nxd5,Re1,Bg4,h3,Bxf3,Qxf3,e6,Bd2,Bxd4,Rad1,Bxb2,Bxd5,Qxd5,Qe2,Qc6,Bb4,Bf6,Bxf8,Rxf8,Rd3,b5,Red1,b4,Qg4,a5,Qf4,Bc3,Rd6,Qc5,Qf3,Kg7,Ra6,Bd4,Rc6,Qa7,Rdc1,a4,Rc7,Qb6,R1c6,Qb5,Rxe6,b3,axb3,axb3,Ree7,Bf6,Rb7,Qc5,Rec7,Qa5,Qxb3', 'Qe1+,Kh2,Be5+', 'https://lichess.org/training/esoYm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EsP4Q', 'Classical', 'Rodolfo-Porto', 1930, 'DustinJRuiz', 1871, 'd4,Nf6,Nf3,g6,e3,Bg7,Bd3,O-O,Nbd2,c6,O-O,d5,Re1,Nbd7,e4,e5,dxe5,Nxe4,Nxe4,dxe4,Bxe4,Nxe5,Qe2,Bg4,h3,Bxf3,gxf3,Qh4,Kh2,Rad8,Rg1,Rd4,Bg5,Qh5,Rad1,Rxd1,Qxd1,f6,Bf4,f5,Rg5,Qh4,Qd2,Bh6,Bd5+,Nf7,Bxf7+,Rxf7', 'Qd8+,Rf8,Rxg6+,hxg6,Qxh4', 'https://lichess.org/training/EsP4Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EsPEE', 'Rapid', 'cherep766', 2030, 'lefossile', 2034, 'e4,e5,d4,Nc6,d5,Nce7,Bb5,Ng6,Ba4,a6,c4,Nf6,Bg5,Be7,Bxf6,Bxf6,Nf3,O-O,g3,Be7,h4,d6,Nbd2,Bg4,Qb3,b6,Bc6,Rb8,O-O-O,f5,Qe3,f4,Qd3,fxg3,fxg3,Bxf3,Nxf3,Bf6,Rhf1,Ne7,Ba4,Nc8,Nh2,Na7,Ng4,b5,Nxf6+,Rxf6,Rxf6,Qxf6,Rf1', 'Qh6+,Kc2,bxa4', 'https://lichess.org/training/EsPEE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eSR8C', 'Blitz', 'Fettberg', 1614, 'szujo', 1633, 'Nf3,b6,d4,Bb7,c4,e6,Nc3,Ne7,g3,g6,Bg2,Bg7,O-O,d6,a3,Nd7,Re1,O-O,e4,e5,d5,Nf6,Bg5,h6,Be3,Kh7,Qd2,Nfg8,b4,f6,Nh4,g5,Nf3,Bc8,h4,Bg4,hxg5,fxg5,Nxg5+,hxg5,Bxg5,Qd7,Ne2,Bh3,g4,Bxg2,Kxg2,Qxg4+,Ng3,Ng6,Rh1+,Nh6,Bxh6,Bxh6', 'Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/eSR8C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ESRJ8', 'Blitz', 'GM Brown_player', 2819, 'shahruh94', 2587, 'e4,e6,d4,d5,Nc3,Bb4,e5,Ne7,a3,Bxc3+,bxc3,c5,Nf3,h6,a4,O-O,Bd3,b6,h4,Ba6,Bxa6,Nxa6,g4,Qc7,Kf1,Rac8,Be3,cxd4,Bxd4,Nc5,h5,Ne4,Ra3,Qc4+,Kg2,Nc6,Nd2,Nxd2,Qxd2,Nxd4,cxd4,Qxc2,Qf4,f6,Rf1,Qe2,Re3,fxe5', 'Qxf8+,Kxf8,Rxe2', 'https://lichess.org/training/ESRJ8');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 13;
-    }
-
-}
\ No newline at end of file
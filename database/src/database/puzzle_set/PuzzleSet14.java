@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet14 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EsS8a', 'Rapid', 'Geofffrost', 1968, 'BrainAche55', 2244, 'd4,f5,Nf3,Nf6,g3,e6,Bg2,Be7,O-O,O-O,c4,d6,Nc3,Ne4,Qc2,Nxc3,Qxc3,a5,b3,Nd7,Re1,Nf6,Bg5,Bd7,Bxf6,Bxf6,e3,c5,Rad1,Qb6,Qd2,cxd4,exd4,Qb4,Qe3,a4,Rb1,a3,Red1,Rfe8,Ne1,Bc6,Bxc6,bxc6,Nd3,Qc3,Nf4,Qxe3,fxe3,g5,Ne2,Reb8,Kf2,Kf7,Rdc1,h5,c5,d5,Rh1,e5,Rbd1,Rb4,Rd2,Re8,Rhd1,h4,dxe5,Bxe5,Nd4,Bxd4,exd4,hxg3+,hxg3,Re4,Kf3,Kg6,Rd3,g4+,Kf2,Kg5,R3d2,f4,gxf4+,Kxf4,Rd3,Rb8,Rh1,Rg8,Rh4,Kg5,Rh7,Rf8+,Kg3,Rf1,b4,Rg1+,Kf2,Rb1,Rxa3,Rxd4,Rg7+,Kf6,Rc7,Rdxb4,Rxc6+,Ke5,Re3+,Kd4,Rg3', 'R4b2#', 'https://lichess.org/training/EsS8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ESsc1', 'Rapid', 'wwwwojciech', 1811, 'Dirty_One', 1774, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Bc5,Nf3,Nf6,e5,Qe7,O-O,Ng4,Nxc3,O-O,Bg5,Qe8,Nd5,Bb6,Ne7+,Kh8,Nh4,f6,Nxc8,Qxc8,exf6,Nxf6,Re1,d5,Bxd5,Nxd5,Qxd5,Bxf2+,Kh1,Bxe1,Rxe1,Nc6,h3,Re8,Rd1,Qe6,Qd3,Rad8', 'Bxd8,Nxd8,Qxd8,Rxd8,Rxd8+,Qg8,Rxg8+', 'https://lichess.org/training/ESsc1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eSSgi', 'Rapid', 'devant', 1714, 'FlagrantLemon', 1765, 'e4,c5,Nc3,e6,Nf3,Nc6,Bc4,Nf6,O-O,Be7,e5,Ng4,Re1,Qc7,Nb5,Qb8,b3,Ngxe5,Bb2,Bf6,Nxe5,Nxe5,f4,Nf3+,Qxf3,Bxb2,Rab1,Bf6,Qd3,Be7,f5,O-O,Qh3,d5,Bd3,a6', 'f6,h6,fxe7', 'https://lichess.org/training/eSSgi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EsUJb', 'Blitz', 'pedroaburto', 1860, 'amrasd123', 2133, 'd4,f5,Nf3,Nf6,c4,e6,Nc3,b6,Bg5,Bb7,e3,Be7,Bd3,O-O,Rc1,h6,Bf4,d6,h3,Nbd7,O-O,Nh5,Bh2,f4,exf4,Nxf4,Bxf4,Rxf4,d5,e5,Bb1,Qf8,Qd3,Nf6,Nh2,Ba6,b3,Bc8,Ng4,Bxg4,hxg4,Rxg4,f3,Rh4,Kf2,e4,Qd4,Ng4+,Kg3,Bf6,Qxe4,Be5+,Kxh4,Qf6+,Kxg4', 'Qg5+,Kh3,Qg3#', 'https://lichess.org/training/EsUJb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eSVrO', 'Rapid', 'ehochipi', 1727, 'cinarbalikci', 1667, 'Nf3,d5,g3,Bg4,Bg2,Bxf3,Bxf3,e6,O-O,Nf6,d3,Bc5,d4,Bb6,c3,Ne4,Nd2,Ng5,Bg2,O-O,Nf3,Nxf3+,Bxf3,Nc6,e4,dxe4,Bxe4,Na5,Qd3,f5,Bg2,Nc6,b4,a5,b5,Nxd4,cxd4,Bxd4,Qb3,Bxa1,Qxe6+,Kh8,Bxb7,Rb8,Ba3,Rxb7,Bxf8,Qxf8,Rxa1,Rxb5,a4,Rb2,Qe5,Rc2,Qxa5,f4,Kg2,f3+,Kg1,Re2,Qxc7,Qe8,h4,h6,a5,Re1+,Rxe1,Qxe1+,Kh2,Qxf2+,Kh3,h5,Qd8+,Kh7,Qd3+,Kh8,Qd8+,Kh7,Qd3+,g6,Qd7+,Kh6,g4', 'Qg2#', 'https://lichess.org/training/eSVrO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eSWR0', 'Blitz', 'Heltonlima', 1725, 'simonOfEarth', 1814, 'b3,e5,Bb2,e4,e3,d5,d3,f5,Qe2,Nf6,Nc3,Be7,O-O-O,Nbd7,dxe4,dxe4,f3,O-O,fxe4,fxe4,g4,Bd6,g5,Ne8,h4,Nc5,Nxe4,Nxe4,Qc4+,Kh8,Qxe4,Bf5,Qg2,Qe7,h5,Be4,Qg4,Bxh1,h6,Qxe3+,Kb1,Bf3,Qh3,Qxg1,hxg7+,Nxg7,g6,Qxg6,Bd3,Be4,Bxe4,Qxe4,Rh1,Rg8,Rg1,Rae8,Qh6,Re6', 'Bxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/eSWR0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ESxDF', 'Blitz', 'SoumyaDeep_99', 2080, 'sofie64', 2107, 'g3,d6,d4,Nf6,Bg2,g6,e4,Bg7,Nc3,O-O,Nf3,c6,O-O,Qa5,a3,Qh5,Ng5,Qxd1,Rxd1,a5,e5,Ne8,f4,Bf5,Be4,d5,Bxf5,gxf5,Be3,e6,Na4,Nd7,b3,Bh6,Nf3,Nc7,Rab1,Rfc8,c4,Bf8,c5,Nb5,Ra1,Be7,Rdc1,h6,Nc3,Nc7,b4,axb4,axb4,b6,Kf2,bxc5,bxc5,Na6,Ra4,Naxc5,dxc5,Bxc5,Rxa8,Rxa8,Bxc5,Nxc5,Ke2,Ra5,Nd4,Ra6,Kd2,Nd7,Rb1,c5,Ndb5,d4,Nc7,dxc3+,Kxc3,Rc6,Nb5,Nb6,Nd6,Nd5+,Kc2,c4,Rb8+,Kg7,Rb7,Nc7', 'Rxc7,Rxc7,Ne8+,Kg8,Nxc7', 'https://lichess.org/training/ESxDF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EsYDL', 'Blitz', 'IM AchrefLahbecha', 2348, 'FuriousTiger', 2215, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,c5,dxc5,Qa5,Bd2,Qxc5,Bd3,O-O,Qe2,Bg4,Be3,Qb4,O-O-O,Rc8,Bd2,Qa5,Kb1,Nbd7,h3,Bxf3,gxf3,Nc5,e5,Nh5,exd6,Ng3,Nd5,Qd8,Nxe7+,Kh8,Qe3,Nxh1,Nxc8,Nxd3,Qxd3', 'Nf2,Qd5,Nxd1', 'https://lichess.org/training/EsYDL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ESYkP', 'Classical', 'chessgamer49', 1781, 'MissIsle', 1675, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,c3,Ba5,Nxc6,bxc6,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bd3,O-O,Bf4,Re8,Nd2,Nxd2,Rxe8+,Qxe8,Qxd2,Bb7,Re1,Qd7,b4,Bb6,c4,dxc4', 'Bxh7+,Kxh7,Qxd7', 'https://lichess.org/training/ESYkP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eSYxF', 'Rapid', 'splash221', 1629, 'maxgio', 1628, 'e4,e5,Nf3,Nc6,Bb5,d6,d3,Bd7,Nbd2,a6,Ba4,b5,Bb3,a5,a3,a4,Ba2,Na5,b3,c5,Bb2,Nf6,b4,cxb4,axb4,Nc6,c3,a3,Qb3,Be6,c4,axb2,Qxb2,bxc4,Nxc4,Bxc4,Bxc4,Rxa1+,Qxa1,Nxb4,Qa4+,Nd7,Qxb4,Be7,O-O,O-O,h3,h6,Nh2', 'd5,Qb5,dxc4', 'https://lichess.org/training/eSYxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eSzqa', 'Rapid', 'Coetus', 2105, 'Adyl57', 1675, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,e6,Nc3,Nc6,Be2,Nge7,d5,exd5,exd5,Ne5,O-O,O-O,h3,d6,a3,a6,Be3,Nf5,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/eSzqa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ET6C2', 'Rapid', 'AlexxxGeorge', 1659, 'ali663', 1923, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Nf6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Bg5,Be7,Qf3,O-O,O-O-O,Qe8,Rhe1,Nd7,Bxe7,Qxe7,Qf5,Rab8,Kb1,g6,Qa5,Nc5,Qxa7', 'Ra8,Qxa8,Rxa8', 'https://lichess.org/training/ET6C2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('et6rw', 'Blitz', 'cool_gel', 1583, 'princepersia', 1521, 'd4,c5,c3,d5,Bf4,Bf5,e3,e6,Nf3,Nc6,Bd3,c4,Bxf5,exf5,O-O,Nf6,Nbd2,Bd6,Bg5,h6,Bh4,g5,Bg3,f4,exf4,gxf4,Bh4,Rg8,Re1+,Kd7,Ne5+,Nxe5,dxe5,Rg4,Bxf6,Qg8,g3,fxg3,fxg3,Bc5+,Kf1,Rf4+,Nf3,Qg4,gxf4', 'Qh3+,Ke2,Qg2#', 'https://lichess.org/training/et6rw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ET8F3', 'Rapid', 'Hailou', 1907, 'Wallysc2', 1859, 'd4,d5,Bf4,Nf6,Nf3,Nc6,e3,e6,c3,Bd6,Bd3,O-O,Qc1,h6,Qc2,Bxf4,exf4,Qd6,Ne5,Nd7,Nd2,f6,Bh7+,Kh8,Ng6+,Kxh7,Nxf8+,Kg8,Nxd7,Bxd7,g3,e5,fxe5,fxe5,Nf3,exd4,Nxd4,Qe5+,Qe2,Qg5,Nxc6', 'Re8,Qxe8+,Bxe8', 'https://lichess.org/training/ET8F3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('et9fy', 'Rapid', 'niklauskus', 1730, 'BillDerr', 1791, 'd4,e6,e4,c5,Be3,cxd4,Bxd4,Nc6,Bc3,Qb6,Qg4,Nh6,Qg3,Rg8,Bd3,Bb4,Nd2,Bxc3,bxc3,Qb2,Nb3,Qxc3+,Kf1,Nd4,Ne2,Nxe2,Kxe2,f6,Rab1,g6,Qd6,Qe5,Qxe5,fxe5,h3,b6,Rhd1,Rf8,f3,Bb7,Bb5,Rd8,Rd6,Nf7', 'Rxe6#', 'https://lichess.org/training/et9fy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ET9yK', 'Blitz', 'swed1shchessmaster', 2322, 'FM Arnold-2005', 2534, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,e4,d6,Nge2,c5,d3,Nc6,O-O,Ne8,h3,Nc7,f4,Ne6,Be3,Ned4,Nd5,Nxe2+,Qxe2,Nd4,Bxd4,Bxd4+,Kh2,Be6,f5,Bxd5,cxd5,Kg7,g4,Be5+,Kg1,f6,Rab1,g5,b3,Rh8,Kf2,Qa5,Rh1,Qc3,Rbc1,Qd4+,Kf3,Bf4,Rc4,Qe5,Qf2,b5,Rc2,h5,Ke2,hxg4,hxg4,Rxh1,Bxh1,Rh8,Bg2,Rh2,Kf1,Qa1+,Ke2,Qb1,Kf3,Qd1+,Qe2,Qg1,Qf2,Rxg2,Qxg2', 'Qe3#', 'https://lichess.org/training/ET9yK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EtC59', 'Rapid', 'jzhoey', 1941, 'rezik0', 1725, 'e4,e5,Bc4,Nc6,c3,Nf6,d3,Bc5,Nf3,d6,O-O,Bg4,Be3,Bxe3,fxe3,Qd7,a4,Nh5,a5,f5,exf5,Qxf5,Qb3,O-O-O,a6,b6,Bd5,Qxd3,Bxc6,Qxe3+,Kh1,Bxf3,Bxf3,Rhf8,Na3,Rf6,Qd5', 'Ng3+,hxg3,Rh6+,Bh5,Rxh5#', 'https://lichess.org/training/EtC59');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eTdIZ', 'Rapid', 'netrepa', 1864, 'rager88', 2024, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,Qb3,Qe7,Ba3,Qxe4+,Kd1,d5,Re1,Qxe1+,Nxe1,dxc4,Qxc4,Be6,Qc5,dxc3', 'Qf8+,Kd7,Qxa8', 'https://lichess.org/training/eTdIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ETDL1', 'Blitz', 'GM Konevlad', 2749, 'IM Alexandr_KhleBovich', 2761, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Bg5,Ne4,Bf4,Nxc3,bxc3,c5,e3,O-O,cxd5,Qxd5,Be2,Nc6,O-O,cxd4,cxd4,Bf5,Qb3,Qxb3,axb3,Rfc8,Rfc1,a6,h3,Nb4,Bg3,Bd3,Kf1,Kf8,Nd2,Bxe2+,Kxe2,Nc2,Rab1,Na3,Rxc8+,Rxc8,Ra1,Nb5,Nc4,Nc3+,Kd3,Nd5,Kd2,b5,Nb2,Nb4,Nd3,Nxd3,Kxd3,Rc6,b4,e6,Ra3,Ke7,Bb8,Kd7,Ba7,Bf8,Bc5,Bd6,g4,Bc7,e4,g5,e5,Bd8,Ke4,Kc8,d5,exd5+,Kxd5,Kb7,Rf3,Rc7,Bd6,Rd7,e6,fxe6+,Kxe6,Rg7,Be5,Re7+,Kd5,Rd7+,Ke6,Re7+,Kd6,Kc8,Rf8,Rd7+,Kc6,Rd1,Bf6,Rc1+,Kd5,Rd1+,Ke6,Kc7,Bxd8+,Rxd8,Rxd8,Kxd8,Kd6', 'a5,bxa5,b4,Ke5,b3', 'https://lichess.org/training/ETDL1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Etecc', 'Rapid', 'Reshad-AFG', 1837, 'exptea', 1722, 'e4,c5,Bc4,d6,Nf3,h6,O-O,Nf6,Nc3,Bg4,d4,cxd4,Bb5+,Nc6,Nd5,a6,Nxf6+,exf6,Bxc6+,bxc6,Qd3,Be7,Nxd4,Qb6,b3,O-O,Be3,c5,Nf5,Bxf5,exf5,Rad8,Qe4,d5,Qxe7,d4,Bf4,Rfe8,Qc7,Qb4,a3,Qc3,Qc6,Qxc2,Qxa6,Qxb3,h4,c4,Rab1,Qc3,Rfc1,Qd3,Qxc4', 'Re1+,Rxe1,Qxc4', 'https://lichess.org/training/Etecc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EtePN', 'Blitz', 'jimmysmith', 1838, 'Adjiebparadox', 1891, 'd4,Nf6,c4,e6,Nc3,b6,Nf3,Bb7,e3,Be7,Bd3,O-O,O-O,h6,Re1,d5,cxd5,exd5,e4,dxe4,Nxe4,Nbd7,Bc2,Re8,Be3,Nxe4,Bxh6,gxh6,Bxe4,Bxe4,Rxe4,Nf6,Ne5,Nxe4,Qg4+,Kf8,Qxe4,Bg5,Qh7,Rxe5,dxe5,Ke7,Qf5,Qd7,Qe4,Rd8,f4,Qd4+,Qxd4,Rxd4,fxg5,hxg5,Rc1,c5,Rc2,Ke6,Re2,Rd5,Kf2,Rxe5,Rxe5+,Kxe5,Ke3,f5,g3,a6,h4,gxh4,gxh4,f4+,Kf3,Kf5,h5,Kg5,h6,Kxh6,Kxf4,Kg6,Ke5,b5,Kd5,c4,Kc5,Kf5,Kb6,Ke4,Kxa6', 'b4,Kb5,c3,bxc3,bxc3', 'https://lichess.org/training/EtePN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('etFkr', 'Blitz', 'st0rm17', 1576, 'ValeryIlyashenko', 1680, 'd4,Nf6,c4,e6,Nc3,b6,e4,d6,Bg5,Be7,Nf3,Bb7,d5,exd5,exd5,O-O,Qd2,h6,Be3,Nbd7,Bd3,Nc5,Bc2,Ba6,b4,Ncd7,b5,Bb7,O-O,Nc5,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/etFkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ETh56', 'Classical', 'Beltham', 1865, 'DrDenisRok', 1787, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,Bd7,Nc3,Nge7,Bd3,Nb4,O-O,Nxd3,Qxd3,Nf5,Rfd1,a6,a4,Rc8,Ne2,O-O,b3,b5,b4,bxa4,Qxa6,Rc2,Ng3,Nxg3,hxg3,Qb8,Rdb1,Bb5,Qa5,Rfc8,Ra3,Rc1+,Rxc1,Rxc1+,Kh2,Rb1,Rc3,Bc4,Qxa4,Rxb4,Qc2,h6,Nd2,Rb2,Qc1,Qb5,Nxc4,dxc4,Rxc4,Kh7,Rc2,Rb1,Qd2,Qf1,g4,g5,Kg3,Qh1,Qd3+,Kg7,Kf3,Rd1,Qe3,Qf1,Kg3', 'Rd3,Rc3,Rxe3+', 'https://lichess.org/training/ETh56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EtJ0Z', 'Classical', 'tauhidulhasan', 1711, 'anwitaathakar', 1721, 'e4,e6,d4,d5,exd5,exd5,c4,c6,cxd5,cxd5,Nc3,Nf6,Bg5,Nbd7,Bb5,Be7,Bxf6,Bxf6,Nxd5,O-O,Ne2,b6,O-O,Bb7,Nxf6+,Nxf6,Qd3,Qd5,Qf3', 'Qxb5,Qxb7,Qxe2', 'https://lichess.org/training/EtJ0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eTjSW', 'Rapid', 'hugo64', 2155, 'almoshfr', 1988, 'e4,g6,d4,Bg7,Nf3,d6,c3,Nf6,Bd3,O-O,O-O,e5,Bg5,Nbd7,Nbd2,h6,Bh4,g5,Bg3,Nh5,h4,Nxg3,fxg3,exd4,Nxd4,Ne5,N2f3,Ng4,Qd2,c5,Nf5,Bxf5,exf5,c4,Bc2,Qb6+,Kh1,Qxb2,f6,Bxf6,Bh7+,Kxh7,Qxb2,Kg7,Qc2,Ne3,Qe4,Rae8,Qxb7,Re7,Qc6,Bxc3,Rac1,Ba5,Qxd6,Nf5,Qd5,Nxg3+,Kh2,Bc7,Kh3,f5,Rce1,g4+,Kh2,Nxf1+,Kg1,Rxe1,Nxe1,Ne3,Qd4+,Kg8,Qxe3', 'Bb6,Qxb6,axb6', 'https://lichess.org/training/eTjSW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EtjZK', 'Classical', 'Idiamin100', 2202, 'khaled1992k', 1962, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,c5,O-O,Nc6,d4,cxd4,Nxd4,Re8,b3,Nxd4,Qxd4,e5,Qd1,d5,cxd5,e4,Bg5,Bf5,Qd2,e3,fxe3,h6,Bxf6,Bxf6,Rxf5,gxf5,Rf1,Bg5,Rf3,Qb6,Kf2,Rxe3', 'Rxe3,f4,gxf4', 'https://lichess.org/training/EtjZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eTkk6', 'Rapid', 'aCalBear', 1603, 'aryan20', 1657, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,exd4,O-O,dxc3,Nxc3,Nf6,e5,Nh5,Nd5,O-O,Nxe7+,Qxe7,Bg5,Qe8,Re1,h6,Bh4,g5,Bxg5,hxg5,Nxg5,Ng7,Qg4,d5,Qh4,Bf5,Bxd5,Nxe5,f4,Qa4,Rxe5', 'Qd4+,Qf2,Qxa1+', 'https://lichess.org/training/eTkk6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('etLqY', 'Blitz', 'xutrinh17', 2010, 'ccxpg', 1846, 'b3,d5,e3,e5,d4,e4,Nc3,Nf6,Bd2,c6,Nge2,Bd6,Ng3,O-O,Be2,Re8,O-O,Nbd7,Nf5,Bc7,f4,exf3,Rxf3,Nf8,Ng3,Ng6,Rf1,Bxg3,hxg3,Qd6,Qe1,Ne4,Nxe4,Rxe4,c4,Bg4,Bd3,Re6,cxd5,Qxd5,Bc4,Qe4,Bxe6,Bxe6,Qe2,Bd5,Bc3,Re8,Rad1,Ne7,Rde1,Nf5,Rf4,Nxg3,Qf2,Qg6,Bb4,Ne4,Qh4,Nf6,Qh2,Qd3,Rh4,Rxe3', 'Qb8+,Ne8,Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/etLqY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EtLTc', 'Rapid', 'Ricolin', 1790, 'Parkerpistola', 1773, 'd4,d5,Bf4,Nc6,c3,Bf5,Nf3,h6,Nbd2,g5,Bg3,Qd7,Ne5,Nxe5,Bxe5,f6,Bg3,h5,h4,O-O-O,f3,g4,e4,dxe4,fxe4,Bg6,Bd3,f5,Qc2,fxe4,Nxe4,Bh6,Nd6+,exd6,Bxg6,Qe6+,Qe4', 'Qxe4+,Bxe4,Re8', 'https://lichess.org/training/EtLTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('etNWg', 'Rapid', 'tar0176', 1671, 'Vlad07', 1618, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,Bxc6,Bxc6,Nc3,Nf6,d3,Be7,O-O,O-O,Re1,a6,Bg5,h6,Bxf6,Bxf6,d4,exd4,Nxd4,Bxd4,Qxd4,Re8,Re3,Qg5,Rg3,Qe5,Qe3,Bxe4,Nxe4,Qxe4,Qxh6,Qh7,Qd2,Re6,b3,Rae8,c4,Re2,Re3', 'R8xe3,Qxe3,Rxe3', 'https://lichess.org/training/etNWg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('etoa9', 'Classical', 'tsav', 1779, 'Aleksandr227', 1718, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bd3,O-O,O-O,c5,Nf5,Bxf5,exf5,a6,Bg5,Nc6,Qf3,Kh8,Nd5,Ne5,Qh3,Nxd3,Bxf6,Bxf6,Nxf6,Qxf6,Qxd3,Qxb2,Qxd6,Qxc2,f6,g6,Rfc1,Rad8', 'Qxf8+,Rxf8,Rxc2', 'https://lichess.org/training/etoa9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ETokD', 'Rapid', 'mayar009', 1807, 'GottliebDaimler', 1892, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,g4,Bxg4,Be2,Bxe2,Qxe2,Nc6,Be3,Qc7,O-O-O,b5,a3,e6,f4,Rc8,Nxc6,Qxc6,e5,Nd7,f5,dxe5,fxe6,Qxe6,Qg2,Qc6,Qd2,Be7,h4,a5,Nd5,Nc5,Nxe7', 'Nb3+,Kb1,Nxd2+', 'https://lichess.org/training/ETokD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EtP3O', 'Rapid', 'Borch44', 1636, 'Aveyr1224', 1624, 'e4,d6,Nc3,Nd7,f4,e5,Nf3,exf4,d4,Ngf6,Bxf4,Be7,Qd2,O-O,O-O-O,c6,Bd3,Re8,g4,Nf8,g5,Nh5,h4,Nxf4,Qxf4,Ne6,Qg3,g6,Kb1,Ng7,d5,c5,e5,Nh5,Qf2,Nf4,exd6,Nxd3,dxe7', 'Nxf2,exd8=R,Rxd8', 'https://lichess.org/training/EtP3O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ETPLP', 'Classical', 'Mert_Sat', 1714, 'MFGAMERo21', 1772, 'e4,c5,Nc3,d6,Bc4,Nc6,d3,Na5,Bb3,Nxb3,axb3,Nf6,Be3,a6,Nf3,e6,h3,d5,e5,d4,exf6,dxe3,fxe3,Qxf6,O-O,Bd6,e4,e5,Nd5,Qg6,Nh4,Qg3,Nf5,Bxf5,Rxf5,O-O,Qh5,g6,Qh6,gxf5', 'Nf6+,Kh8,Qxh7#', 'https://lichess.org/training/ETPLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ETrbr', 'Classical', 'Hutch1917', 1698, 'Kc_Heals', 1661, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,Bd6,Bxd6,Qxd6,e3,Ne4,Nxe4,dxe4,Ne2,Nc6,a3,O-O,Ng3,e5,Nxe4,Qg6,Ng3,exd4,exd4,Bg4,f3,Rfe8+,Be2,Bd7,O-O,Qf6,Ne4,Qf4,d5,Ne5,Nc5', 'Qe3+,Rf2,Qxc5', 'https://lichess.org/training/ETrbr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EtSvb', 'Rapid', 'LeXuSBisHOP', 1812, 'parleG', 1909, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,e3,d6,Bd3,Bg4,h3,Bd7,O-O,Nc6,a3,e5,d5,Ne7,e4,Nh5,Bg5,h6,Be3,f5,exf5,gxf5,Ne1,Qe8,f4,exf4,Bxf4,Nxf4,Rxf4,Qg6,Qf3,Kh8,Nc2,Rg8,Rf1,Bd4+,Nxd4,Raf8,Ncb5,c5,Ne6,Bxe6,dxe6,Qxe6,Nxa7,Rg5,Nb5,Rfg8,Rf2,Qe1+,Bf1,Rg3,Qxb7,Ng6,Rxf5,Nh4,Rf7,Rxg2+,Rxg2,Rxg2+,Kh1,Rg7,Rxg7,Qxf1+,Rg1', 'Qxh3#', 'https://lichess.org/training/EtSvb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eTTFv', 'Blitz', 'AlmightyEin', 2108, 'Adil_Malvadeza', 2126, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e6,Nc3,a6,Be2,Nf6,Be3,Be7,Qd2,Qc7,g4,Nbd7,g5,Ng8,h4,b5,a3,Bb7,O-O-O,Rc8,f3,Nb6,f4,Nc4,Bxc4,Qxc4,Rhf1,b4,axb4,Qxb4,f5,e5,Nb3,Bxe4,Nxe4,Qxe4,f6,gxf6,gxf6,Nxf6,Bg5,Nd5,Bxe7,Kxe7,Rde1,Qc4,Qg5+,Ke8', 'Rxe5+,dxe5,Qxe5+,Kf8,Qxh8+', 'https://lichess.org/training/eTTFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eTTLf', 'Classical', 'kaushik_shah_97', 1682, 'KaranRajput', 1689, 'e4,e6,d4,c5,d5,exd5,exd5,Nf6,d6,Qb6,Qe2+,Kd8,Nc3,Bxd6,Qb5,Re8+,Be2,Qxb5,Nxb5,Be5,Nf3,a6,Nxe5,Rxe5,Nd6,Re7,Bg5,h6,Bxf6,gxf6,a4,Nc6,Kd2,Kc7,Nf5,Re6,Bc4,Re5,g4,d5,Be2,Bxf5,gxf5,Rxf5,h4,Rxf2,Raf1,Rxf1,Rxf1,Re8,Rxf6,Re4,Rxf7+,Ne7,Bf3,Re5,Rh7,d4,Rxh6,Nf5,Rh7+,Kb6,Rxb7+,Ka5,h5,Kxa4,Bc6+,Ka5,Bd7,Re7,c3,Nd6', 'b4+,cxb4,cxb4#', 'https://lichess.org/training/eTTLf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eTx9m', 'Classical', 'nikkon2006', 2223, 'SagmaO', 2017, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Nxf6+,Nxf6,Be2,Bg4,O-O,e6,c4,Be7,Be3,O-O,Qc2,Qc7,h3,Bh5,a3,c5,dxc5,Bxc5,Bxc5,Qxc5,b4,Qc7,Rfd1,Rad8,Qb3,b6,Qe3,Rfe8,g4,Bg6,Ne5,Nd7,Nxd7,Rxd7,Rxd7,Qxd7,Rd1,Qc7,Qd4,h6,h4,Kf8,h5,Bh7,c5,bxc5,bxc5,Rc8,Rc1,Rd8,Qc3,Be4,c6,Rc8', 'Qb4+,Qe7,Qxe4', 'https://lichess.org/training/eTx9m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ETxeN', 'Classical', 'gabrahmad', 1701, 'IJuanJo6', 1790, 'e4,Nc6,d4,e6,d5,Nce7,f4,Nf6,Nc3,exd5,exd5,b6,Nf3,Bb7,Bc4,g6,O-O,Bg7,Re1,O-O,d6,cxd6,Qxd6,Nc8,Qd3,Qc7,Be3,Nd6,Bb3,Bxf3,gxf3,Nf5,Bf2,Qxf4,Ne4,Nh4,Bxh4,Qxh4,Nxf6+,Bxf6,Re4,Qg5+,Rg4,Qc5+,Kh1,Bxb2,Rag1,Bd4,Rxg6+,hxg6', 'Qxg6+,Bg7,Qxg7#', 'https://lichess.org/training/ETxeN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ETxsz', 'Rapid', 'daniel775', 1609, 'KatWe', 1605, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,g6,c4,Nb6,Nc3,Bg7,Be2,O-O,O-O,Nc6,Be3,Bg4,Nd2,Bxe2,Qxe2,Nxd4,Qd1,c5,Nf3,Nxf3+,Qxf3,Nxc4,Rab1,Nxe3,Qxe3,Qc7,Nd5,Qe5,Qxc5,Rac8', 'Nxe7+,Kh8,Qxe5', 'https://lichess.org/training/ETxsz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EtxuU', 'Rapid', 'kovaxhu', 1958, 'Haris1983', 1891, 'e4,c5,Nc3,g6,Nf3,Bg7,g3,Nc6,Bg2,d6,Nd5,Bg4,Ne3,Bxf3,Bxf3,Nf6,O-O,O-O,Bg2,Qa5,Nc4,Qc7,d3,a6,Bf4,b5,Nd2,Nh5,Be3,Bxb2,Rb1,Bg7,f4,e5,f5,Qd7,g4,Nf6,Bg5,h6,Be3,g5,Qe1,Rab8,h4,Nxg4,hxg5,Nxe3,Qxe3,hxg5,Qxg5,f6,Qg4,Kf7,Rf3,Rg8,Qh5+,Ke7,Rg3,Kd8,Rg6,Kc7,Nb3,Bh8,Rh6,Qg7', 'Rh7,Qxh7,Qxh7+', 'https://lichess.org/training/EtxuU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('etXwc', 'Classical', 'Carlsen-vom-Dach', 1679, 'Teryanci', 1675, 'd4,d5,c4,Nc6,cxd5,Qxd5,Nc3,Qxd4,Qc2,Nf6,Nb5,Qb4+,Nc3,e5,Bd2,Nd4,Qc1,Qc5,e3,Nc6,Bb5,Bf5,Nge2,O-O-O,O-O,Ne4,Rd1,Nxc3,Nxc3,Bg4,f3,Bh5,Rb1,g6,b4,Nxb4,Ne4,Qe7,Bxb4,Rxd1+,Qxd1,Qe6,g4,Bxg4,fxg4,Bxb4,Rxb4,Rd8,Qe2,f5,Nc5,Qe7,Rc4,Qf7,Qg2', 'Rd1+,Kf2,Rd2+,Kf1,Rxg2', 'https://lichess.org/training/etXwc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eTy3W', 'Rapid', 'beginnerplays', 1703, 'matina53', 1791, 'd4,d5,c4,e6,Nc3,c6,cxd5,cxd5,f3,Bb4,e4,Bxc3+,bxc3,dxe4,fxe4,e5,Nf3,Bg4,Qa4+,Qd7,Bb5,Nc6,Nxe5,Qc8,Nxg4,a6,Bxc6+,bxc6,Ne5,Ne7,Ba3,Qe6,Bxe7,Kxe7,Nxc6+,Kd6,e5+,Kc7,Rb1,Qxc6,Qa5+,Kd7,Rb6,Qxg2,Rd6+,Ke8,Qa4+,Kf8,Rf1,Qe4+,Kf2,Qf4+,Kg1,Qe3+,Rf2,Qe1+,Rf1,Qe3+,Rf2,Qg5+,Kf1,Rb8,Qc2,g6,e6,Rb7,Rxf7+', 'Rxf7+,exf7,Qf4+', 'https://lichess.org/training/eTy3W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('etY3X', 'Rapid', 'Roger_0914', 1907, 'Fw3', 1768, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Nxc6,bxc6,Nc3,e5,h3,Be7,Be3,O-O,O-O,Be6,Ne2,d5,exd5,cxd5,c3,e4,Bc2,a5,Nd4,Bd7,Ba4,Rb8,Rb1,Bc5,Nc6,Bxc6,Bxc6,Bxe3,fxe3,h6,a4,Qd6,Bb5,Rfc8,Qd4,Qc5,Qxc5,Rxc5,Rf5,Ne8,c4,Nd6,Rxd5,Rxd5,cxd5,Nxb5,axb5,Rxb5,Rd1,Kf8,d6,Ke8,Rd2,Kd7,Kf2,Rb6,Kg3,Rxd6,Rxd6+,Kxd6,Kf4,Kd5,b3,g6,g4,f6,h4,h5,gxh5,gxh5,Kf5,Kd6,Kxf6', 'Kc5,Ke5,Kb4,Kxe4,Kxb3,Kd5,a4', 'https://lichess.org/training/etY3X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EU1kp', 'Blitz', 'Chuckweseke', 2071, 'AlbertSteinstein', 1964, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,Bd2,Bg7,e4,Nxc3,Bxc3,c5,d5,O-O,Nf3,Bxc3+,bxc3,Qa5,Qc2,b5,Be2,b4,O-O,bxc3,Rab1,Ba6,Bxa6,Nxa6,Rb3,Nb4,Qxc3,Qxa2,Ra1,Qc2,Qxc2,Nxc2,Rc1,Nd4,Nxd4,cxd4,Rb4,Rfc8,Rbc4,Rxc4,Rxc4,Rb8,Kf1,d3,Ke1,a5,Rc3,Rb4,f3,Rb2,Rxd3,Rxg2,Ra3,Rxh2,Rxa5,h5,Ra7,Kf8,e5,h4', 'Ra8+,Kg7,d6,exd6,exd6,h3,d7', 'https://lichess.org/training/EU1kp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EU2wQ', 'Blitz', 'telemwecomin', 2156, 'NM reebook', 2168, 'd4,Nf6,Bf4,g6,Nc3,d6,Qd2,Bg7,h4,h5,f3,O-O,Bh6,c6,e4,Bh8,Bxf8,Kxf8,O-O-O,Na6,e5,dxe5,dxe5,Qxd2+,Rxd2,Nd7,Bxa6,bxa6,Nge2,Bxe5,f4,Bg7,f5,Bh6,Rd1,Nf6,Kb1,Bxd2,Rxd2,Bxf5,Nd4,Bd7,Na4,Ne4,Re2,f5,Nb3,Be6,Nac5,Bd5,Nxe4,Bxe4,Nc5,Bd5,b3,a5,c4,Bf7,Rd2,e5,Rd7,Re8,Kc2,e4,Kd2,f4,Ke2,Re5,Nb7,Be6,Rc7,Bg4+,Kf2,e3+,Ke1,f3,gxf3,Bxf3,Nd6,g5', 'Rf7+,Kg8,Rxf3', 'https://lichess.org/training/EU2wQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EU2YC', 'Rapid', 'Rohan671', 1609, 'roosewelt', 2038, 'e4,e6,d4,d5,exd5,exd5,Nc3,Be6,Bd3,Bd6,Nf3,Ne7,Be3,Nbc6,Ng5,Qd7,Nxe6,fxe6,O-O,O-O-O,a4,e5,a5,exd4,Bd2,dxc3,bxc3,Ne5,Be2,h5,Be3,N7c6,Re1,Ng4,g3,Nxe3,fxe3,h4,Bg4,hxg3,Bxd7+,Kxd7,Qg4+,Ke7,Qxg7+,Ke6,Rf1,Ne7,Qf6+,Kd7,a6,b6,Rad1,g2,Rf2,Bxh2+,Kxg2,Rdg8+,Kf1,Bg3,Rf3,Rh1+,Ke2,Rh2+,Kd3,Bh4,Qf7,Rhg2,c4,R2g7,Qf4,Bg5,Qd4,Kc8,cxd5,Nxd5,Rf8+,Rxf8,Qxg7,Be7,e4,Nf4+,Kc3', 'Bf6+,Qxf6,Rxf6', 'https://lichess.org/training/EU2YC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eu7Qh', 'Rapid', 'Relmasry', 1984, 'zeus23', 1903, 'e4,e6,d4,d5,exd5,Qxd5,Nf3,Nf6,c4,Qd8,a3,Bd7,Nc3,Bd6,c5,Be7,h3,b6,b4,a5,Bb2,axb4,axb4,Rxa1,Bxa1,Nc6,b5,Na5,c6,Bc8,Bd3,O-O,O-O,Nd5,Bb1,Bb4,Nxd5,Qxd5,Qd3,g6,h4,Nc4,Ba2,Qxb5,Qxc4,Qa4,Rb1,Ba6,Rxb4', 'Qd1+,Kh2,Bxc4', 'https://lichess.org/training/Eu7Qh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eUAx2', 'Rapid', 'Inglorious_Patzer', 1850, 'samyco', 1847, 'e4,c5,c3,e6,e5,Nc6,d4,cxd4,cxd4,Qa5+,Nc3,Bb4,Bd2,Nxd4,a3,Qxe5+,Nge2,Be7,Bf4,Qf5,Qxd4,Bf6,Qc4,Ne7,Ng3,Qc2,Rb1', 'Bxc3+,Qxc3,Qxb1+', 'https://lichess.org/training/eUAx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Euax6', 'Rapid', 'lemilio775', 1788, 'Kodiakum', 1854, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,Bb4,e3,Bxc3+,bxc3,Bd7,a4,Nc6,Qb3,Rb8,Ba3,Na5,Qc2,Nxc4,Bxc4,dxc4,e4,b5,axb5,Bxb5,O-O,h6,Rfe1,c6,Rab1,a5,Rbd1,Ba6,d5,cxd5,exd5,Bc8,dxe6,Nd5,exf7+,Kxf7,Ne5+,Kg8,Ng6,Rb5,Re5,Bb7,Qf5,Qf6,Nxh8,Qxf5,Rxf5,Kxh8,Rf8+,Kh7,Rb8,Nxc3,Re1,Ne2+,Kf1,Nf4,g3', 'Bg2+,Kg1,Rxb8', 'https://lichess.org/training/Euax6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eucbE', 'Rapid', 'spvoron', 1930, 'toastbrottorbtsaot', 1892, 'e4,b6,d4,Bb7,Bd3,g6,b3,Bg7,Bb2,Nf6,Qe2,O-O,f3,e6,Nh3,d5,e5,Nfd7,c3,c5,Nd2,Nc6,O-O,Qh4,Qf2,Qxf2+,Nxf2,cxd4,cxd4,Rac8,Rac1,Rc7,f4,Rfc8,a3,a5,Nf3,Ne7,Rxc7,Rxc7,Rc1,Rxc1+,Bxc1,Nc6,g3,h5,h4,Ndb8,Kf1,Bf8,Ke2,Be7,Nd1,Ba6,Nc3,Bxd3+,Kxd3,Na7,a4,Nbc6,Bd2,Nb4+,Ke2,Nac6,Nb5,Kf8,Bxb4,Nxb4,Kd2,Ke8,Ne1,Kd7,Nd3,Nxd3,Kxd3,Bb4,Ke3,Be1,Kf3,Bb4,g4,hxg4+,Kxg4,Ke7,h5,gxh5+,Kxh5,f6,Kg4,fxe5,fxe5,Kf7,Nc7,Bc3,Kf4,Bxd4,Na8,Ke7,Nc7,Kd7,Nb5,Bg1,Kg3,d4,Kg2,Be3,Kf3,Kc6,Ke4,Bg1,Nxd4+,Kc5,Nxe6+,Kb4,Nd4,Bf2,Kd3,Kc5,Ke4', 'Bxd4,e6,Bf6', 'https://lichess.org/training/eucbE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EUeio', 'Rapid', 'blaiser11', 1711, 'Beyonder17', 1724, 'e4,c5,Nf3,Nc6,c3,a6,d4,cxd4,cxd4,e6,Bc4,Nf6,Nc3,d6,d5,exd5,exd5,Na5,Be2,Be7,O-O,Bd7,Re1,b5,Bf4,O-O,b4,Nc4,Bxc4,bxc4,Rc1,Qb6,a3,a5,Rxe7,axb4,Rb1,Qa6,axb4,Bf5,Rc1,Qa3,Nb5,Qxb4,Nxd6,c3,Nxf5,Ra2,Qd4,Qb2,Qxc3', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/EUeio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eUgK7', 'Rapid', 'Tadhani', 1689, 'antongiovani', 1746, 'e4,e5,Nf3,Nc6,d3,Bc5,h3,Nf6,Nc3,d5,Bg5,d4,Nd5,Be6,Nxf6+,gxf6,Bd2,Qd7,a3,Ne7,c3,dxc3,Bxc3,O-O-O,b4,Bb6,Be2,Rhg8,Bf1,Ng6,a4,a6,a5,Ba7,Ra3,Nf4,Bb2,Nxg2+,Bxg2,Rxg2,d4,exd4,Nh4,Rgg8,Nf3,Qe7,Rd3,Bc4,Rd2,Qxe4+,Re2,Bxe2,Qxe2,Qb1+,Qd1,Qxb2,Nd2,Rde8+,Kf1,d3,Nc4,Qd4,Ne3,Qh4,Rg1,Re7,Rxg8+,Kd7,Qxd3+,Bd4,Qf5+,Re6,Nd5,Bxf2,Nxf6+,Qxf6,Qxf2,Qa1+,Kg2,Qe5,Qxf7+,Kd6', 'Rd8+,Kc6,Qd7#', 'https://lichess.org/training/eUgK7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('euGSG', 'Rapid', 'yanekk', 1759, 'P_CHESS', 1772, 'd4,e6,c4,d5,Nc3,c5,cxd5,exd5,dxc5,d4,Qa4+,Nc6,Ne4,Bf5,Ng3,Bd7,Nf3,Bxc5,Bg5,Qb6,Ne4,Nb4,Qb3,Be6,Qd1,Rd8,Bxd8,Qxd8,a3,Na6,Nxc5,Nxc5,Qxd4,Qa5+,Nd2', 'Nb3,Qd6,Nxa1', 'https://lichess.org/training/euGSG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EuH8J', 'Rapid', 'junneth', 1687, 'HomeroSimsonp', 1786, 'e3,d5,b3,e5,Qh5,Nc6,Bb2,Nf6,Qg5,h6,Qh4,g5,Qa4,Bg7,Bb5,Bd7,h3,O-O,Bxc6,Bxc6,Qb4,d4,Nf3,Bxf3,gxf3,Nd5,Qc4,dxe3,dxe3,c6,Nd2,Qa5,h4,f6,e4,Rad8,Bc3,Qb6,exd5,cxd5,Qd3,d4,Qc4+,Rf7,Bb2,Kf8,Ba3+,Ke8,Qa4+,Rdd7,Nc4,Qe6,O-O-O,a6,Na5', 'b5,Qb4,Bf8,Qe1,Bxa3+', 'https://lichess.org/training/EuH8J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EUh8o', 'Rapid', 'petonnio', 1994, 'drevenystul', 1902, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nf5,Qf6,Nc3,Nge7,Ne3,d6,Nb5,Bb6,Bd3,a6,Nc3,Qg6,e5,Qe6,exd6,Qxd6,O-O,Be6,Ne4,Qe5,f4,Qd4,c3,Qd7,Kh1,Rd8,Bc2,Qxd1,Rxd1,Rxd1+,Bxd1,O-O,Bc2,Bxe3,Bxe3,Nf5,Bf2,Rd8,Ng5,Rd2,Bxf5,Bxf5,Re1,g6,Bc5,h6', 'Re8+,Kg7,Bf8+,Kf6,Nh7#', 'https://lichess.org/training/EUh8o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eUikQ', 'Rapid', 'subtlefluids', 1938, 'berezovckijpetr', 2006, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,e6,d4,c6,O-O,Nf6,Re1,Be7,Bf4,O-O,Qd2,Nbd7,Rad1,Nb6,Ne5,Bxe2,Qxe2,Nbd5,Bg5,Nxc3,bxc3,h6,Bxf6,Bxf6,Ng4,Be7,Qe4,Qa5,Rd3,Qxa2,Rh3,Qd5,Qd3,Qg5', 'Nxh6+,gxh6,Rg3,Kh8,Rxg5', 'https://lichess.org/training/eUikQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('euJLH', 'Blitz', 'Fibisch', 1803, 'MarcinBaaaj', 1703, 'Nf3,Nf6,c4,c5,Nc3,g6,g3,Bg7,Bg2,O-O,O-O,Nc6,e3,e6,a3,a6,d4,cxd4,exd4,d5,c5,Re8,Bf4,Nh5,Bd6,Qf6,Ne5,Qd8,b4,b6,Na4,Nxe5,dxe5,bxc5,bxc5,Bf8,Nb6,Ra7,a4,Ng7,a5,Nf5,Rc1,Bxd6,exd6,Bd7,c6,Bc8,d7,Bxd7,cxd7,Rxd7,Nxd7,Qxd7,Re1,Qb5,Qd2,Rb8,Rb1,Qxb1,Rxb1,Rxb1+,Bf1,Kg7,Qc3+,f6,Qc7+,Kh6,Qd7,Nd4,Qf7,f5,Qa7,Nf3+,Kg2,Ne1+,Kh3,Nf3,Bxa6,g5,Qe7', 'g4+,Kg2,Rg1#', 'https://lichess.org/training/euJLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EuKp9', 'Classical', 'vanraj01', 1858, 'oximahos', 1794, 'e4,d6,d4,Nf6,Bd3,e5,c3,d5,dxe5,Nxe4,Bxe4,dxe4,Qa4+,Bd7,Qxe4,Nc6,Nf3,Qe7,O-O,O-O-O,Bf4,f5,Qe2,h6,Nd4,Nxd4,cxd4,g5,Be3,f4,Bc1,Bc6,Rd1,Qe6,Nc3,Bb4,f3,a6,a3,Ba5,Ne4,Bb6,b4,Bxd4+,Rxd4,Rxd4,Bb2,Bb5,Qf2,Rd5,Nc5,Qf5,a4,Bd7', 'e6,Bxe6,Bxh8', 'https://lichess.org/training/EuKp9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EUKUS', 'Rapid', 'JimmyTudeski', 2343, 'white_slonik', 2026, 'Nf3,Nf6,c4,c5,g3,Nc6,Bg2,g6,d4,cxd4,Nxd4,Nxd4,Qxd4,Bg7,Nc3,O-O,O-O,d6,Qd3,Bf5,e4,Be6,b3,Rc8,Bd2,b6,Rac1,Nd7,Qe2,Ne5,h3,Qd7,Kh2,f5,f4,Nc6,exf5,Bxf5,Rfe1,Rfe8,Nd5,e5,Qf1,exf4,Bxf4,Ne5,Rcd1,Kh8,Bg5,Rf8,Qe2,Rce8,Ne3,h6,Bf4,g5,Bxe5,Bxe5,Qh5,Kh7,Nxf5,Rxf5,Be4,Kg7,Bxf5,Qxf5,Rf1,Qc2+,Kh1,Re7,Qf3,Qh7,Rxd6,Bxd6', 'Qf6+,Kg8,Qf8#', 'https://lichess.org/training/EUKUS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eULcP', 'Rapid', 'abdulvahid', 2079, 'eloc44', 2109, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,Nbd7,a3,e6,O-O,Nc5,Re1,Be7,b4,Ncxe4,Nxe4,Nxe4,Rxe4,d5,Rg4,dxc4,Bb2,e5,Rxg7,exd4,Bxd4,Bf6,Bxf6,Qxf6,Rg3,Be6,a4,Rd8,Qe1,Kf8,b5,Rg8', 'Qb4+,Qe7,Rxg8+,Kxg8,Qxe7', 'https://lichess.org/training/eULcP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EulxR', 'Classical', 'Pikulin-kudesnik2', 1671, 'Steak_Knife86', 1805, 'e4,Nc6,d4,e5,d5,Nce7,Nf3,Ng6,c4,c5,Be2,Nf6,Bg5,Qa5+,Qd2,Qb6,Nc3,h6,Be3,Ng4,b3,d6,O-O,f5,exf5,Bxf5,Bg5,hxg5,Qxg5,Ne7,Nh4,Nxh2,Nxf5,Nxf1,Nxg7+,Bxg7,Qxg7,O-O-O,Qxe7,Nd2,Rd1,Qb4,Nb5,Kb8,Nxd6,Nxc4,Bxc4,Qb6,Ne4,Qh6,Qxe5+,Ka8,Ng3,Rde8,Qc3', 'Qh2+,Kf1,Qh1+,Nxh1,Rxh1#', 'https://lichess.org/training/EulxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eumng', 'Rapid', 'so0s', 1913, 'Pokemon999', 1891, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bb4+,Bd2,Bxd2+,Qxd2,d6,Nc3,Bg4,Ng5,O-O,f3,Bh5,g4,Bg6,h4,h6,h5,hxg5,hxg6,Nd4,gxf7+,Rxf7,Bxf7+,Kxf7,O-O-O,b5,Qxg5,b4,Nb1', 'Ne2+,Kd2,Nxe4+,dxe4,Qxg5+', 'https://lichess.org/training/Eumng');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EuMrY', 'Rapid', 'UTA1217', 976, 'dArkshAdow1998', 902, 'd4,e6,c4,Qe7,Nf3,Nc6,d5,exd5,cxd5,Ne5,Qb3,c6,e4,Qf6,Bg5', 'Nxf3+,gxf3,Qxg5', 'https://lichess.org/training/EuMrY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eUn6e', 'Blitz', 'shimianto', 1704, 'Question274', 1797, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Be6,e3,Nc6,Nge2,Bc5,O-O,O-O,a3,Qd7,b4,Bb6,Nxd5,Bxd5,Bb2,Bxg2,Kxg2,e4,Nf4,Rad8,Bc3,Rfe8,Qc2,a5,Rad1,axb4,axb4,Qg4,d3,Qf3+,Kg1,exd3,Rxd3,Ne7,Rfd1,Rxd3,Qxd3,Qc6,b5,Qf3,Qd8,Rf8', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/eUn6e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('euNBP', 'Rapid', 'Teun24', 1714, 'VooV', 1707, 'e4,g6,d4,Bg7,Nc3,c5,d5,d6,Nf3,a6,Be2,b5,Bxb5+,axb5,Nxb5,Qa5+,Nc3,Bxc3+,bxc3,Qxc3+,Bd2,Qg7,O-O,Bg4,Re1,Nf6,Bc3,Nbd7,h3,Bxf3,Qxf3,Ra3', 'Bxf6,Qxf6,Qxa3', 'https://lichess.org/training/euNBP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eUnvS', 'Blitz', 'Maldini86', 1822, 'gokselklnc', 1799, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Be3,g6,Bd3,d5,Bxe4,dxe4,Nfd2,Bg7,Nc3,Qb4,Ncxe4,f5,Nc3,Qxb2,Nd5,Bxd4,Bxd4,Qxd4,Qe2+,Kd7,Qe7+,Kc6,Nb4+,Kb6,Rb1,a6,Nxa6+,Kxa6', 'Qa3+,Qa4,Qxa4#', 'https://lichess.org/training/eUnvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eUobB', 'Classical', 'Henkmo', 1644, 'Apprenti_Chess', 1678, 'd4,e6,c4,Nc6,Nc3,g6,e4,Bg7,Nf3,Nge7,e5,d5,Bg5,O-O,cxd5,exd5,Be2,Qd7,O-O,Nf5,Be3,Nxe3,fxe3,Ne7,Qb3,Nf5,e4,dxe4,Nxe4,Nxd4,Qd3,Nxe2+,Qxe2,Qe6,Nc5,Qb6,Qf2,Bf5,Rac1,Rad8,Rfe1,Qb4,b3,Rfe8,Rc4,Qb6,Rh4,Rd5,Ne4,Rexe5,Nxe5,Qxf2+,Kxf2,Bxe5,Ng5,Bd4+,Kf3,Bf6', 'Re8+,Kg7,Rxh7#', 'https://lichess.org/training/eUobB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EUp7X', 'Rapid', 'Jean-Patrick', 1797, 'txol', 1757, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,a6,O-O,d6,h3,Be6,Bb3,Nge7,Be3,Nd4,Bxd4,exd4,Nd5,c6,Nxe7,Qxe7,c3,dxc3,bxc3,O-O,d4,Ba3,e5,Bb2,Rb1,Bxc3,Qd3,Ba5,Bxe6,fxe6,Qb3,b5,Rfc1,Rac8,d5,cxd5,Qe3,Bc7,exd6,Qxd6,Nd4,Qh2+,Kf1,Bf4', 'Qxe6+,Kh7,Rxc8,Qh1+,Ke2,Qxb1,Rxf8', 'https://lichess.org/training/EUp7X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eUpjL', 'Classical', 'z111z', 1703, 'Radical_Gander', 1678, 'e4,e5,f4,f6,Nf3,Nc6,Bc4,b6,O-O,Bb7,Nc3,Nge7,Nd5,Nxd5,Bxd5,Qe7,fxe5,O-O-O,c3,Nxe5,Bxb7+,Kxb7,d4,Nc6,Re1,d6,d5,Ne5,Be3,Nxf3+,Qxf3,Qe5,Bf4,Qe7,b3,g5,Bg3,Rg8,c4,c5,dxc6+,Kc7,Rad1,Qe8,Qxf6,Qxc6,Qf7+,Qd7,Qxg8,Kc8,e5,d5,Rxd5,Bc5+,Bf2,Bxf2+,Kxf2', 'Qf5+,Kg1,Rxg8', 'https://lichess.org/training/eUpjL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EupUb', 'Blitz', 'peskowitz9', 1536, 'Suru_56', 1547, 'e4,e6,Nf3,d5,exd5,exd5,g3,c5,Bg2,Nf6,Nc3,Nc6,d3,Bd6,O-O,Qb6,Ng5,O-O,Bxd5,Nxd5,Nxd5,Qd8,Qh5,h6,Ne4,Be5,Nxc5,Qxd5,Nb3,Kh7,Bf4,g6,Qh4,Bxf4,Qxf4,Bh3,f3,Ne5,Rf2,Rae8,d4,Nc4,Rd1,Ne3,Rdd2,Ng2,Rxg2,Re1+,Kf2,Bxg2,Kxe1,Re8+,Re2,Rxe2+,Kxe2,Qc4+,Kf2', 'Qf1+,Ke3,Qe1+,Kd3,Bf1#', 'https://lichess.org/training/EupUb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eUPYg', 'Rapid', 'ginreck', 2135, 'Blackspringer', 1895, 'd4,e6,c4,d5,Nc3,Bb4,e3,Nf6,Bd3,h6,Nf3,Bxc3+,bxc3,b6,O-O,O-O,cxd5,exd5,c4,Bg4,h3,Bh5,Bb2,Nbd7,Rc1,Rc8,cxd5,Nxd5,Be2,N7f6,Ne5,Bxe2,Qxe2,a5,Rfe1,Qd6,e4,Nb4,a3,Na2,Rc6,Qe7,Qc4,Nd7,Qxa2,Nxe5,dxe5,Rfd8,e6,Rd2,Qb3,fxe6,Rxe6,Qf7,Qc3', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/eUPYg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EUqCn', 'Blitz', 'GameOveralways', 1865, 'CM vovaches', 2426, 'd4,Nf6,c4,e6,g3,d5,Bg2,Bb4+,Bd2,Bxd2+,Nxd2,O-O,Ngf3,c6,Ne5,Nbd7,Nxd7,Bxd7,cxd5,exd5,e3,Re8,O-O,Bg4,Bf3,Qd7,Bxg4,Nxg4,Nb3,Nf6,Rc1,Qe7,Re1,Rac8,Nd2,Qe6,Nf3,Qh3,Ng5,Qf5,Nf3,Ne4,Qe2,Re6,Nh4,Qh3,Qf1,Qxf1+,Kxf1,Rf6,Re2,g5,Ng2,h5,f4,g4,Nh4,Re8,Kg2,Kg7,h3,gxh3+,Kxh3,Rg8,Rg1,Kf8,Nf3,Nd6,b3,Nf5,Ne5,Nd6,Nd7+,Ke7,Nxf6,Kxf6,g4,Ne4,g5+,Kf5,Rc2,Re8,Kh4,Nd6,Re2,Ke4,Rgg2,Nf5+,Kxh5', 'Rh8+,Kg4,Rh4#', 'https://lichess.org/training/EUqCn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eurTI', 'Blitz', 'JeremyFM', 1673, 'killahpriest', 1716, 'e4,c5,c3,d5,e5,d4,cxd4,cxd4,Nf3,b6,Bd3,Bb7,O-O,Nc6,b3,Rc8,Bb2,Nb4,Bb5+,Bc6,Bxc6+,Rxc6,Nxd4,Rh6,f4,Nd3,Qc2,Nxb2,Qxb2,e6,Ne2,Bc5+,Kh1', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/eurTI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eusbp', 'Rapid', 'Mobilis-in-mobile', 1606, 'markodjukic94', 1729, 'd4,d5,Nf3,Nc6,e3,Bg4,Bb5,Qd7,c4,Bxf3,Qxf3,a6,Bxc6,Qxc6,Qxd5,Qa4,Nc3,Qc2,Qxb7,Rd8,Qc6+,Rd7,O-O,Nf6,h3,e6,Qxa6,Bd6,Nb5,O-O,Nxd6,Rxd6,Qa3,Qxc4,Qc3,Qa6,b4,Ne4,Qxc7,Rc8,Qa5,Qb7,a3,Rd5,Qa4,Rg5,f3,Nc3,Qb3,Ne2+,Kf2,Qb5,Bb2,Ng3,Rfe1,Qf5,Rac1,Rxc1,Rxc1,h6,Rc8+,Kh7,a4', 'Ne4+,Ke1,Rxg2', 'https://lichess.org/training/eusbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EuSiy', 'Rapid', 'ivko73', 1825, 'Murissoca', 1827, 'd4,d5,e3,Bf5,Nf3,Nc6,c4,dxc4,Bxc4,e6,O-O,Nf6,Nc3,Bd6,a3,O-O,Re1,Ne4,Bd3,Nxc3,bxc3,Bg4,h3,Bh5,Be2,Bg6,Bd3,Ne7,e4,c6,e5,Bc7,Bg5,Re8,Bxg6,fxg6,Qb3,Qd7,c4,b6,Rad1,Nf5,d5,Kh8,dxe6,Qxe6,g4,Nh6,Nd4,Qc8,Nxc6,Nf7,Ne7,Qe6,Nd5,Bxe5,f4,Nxg5,Rxe5,Nxh3+,Qxh3,Qd6,Rxe8+,Rxe8,Qf3,Qc5+,Kg2,Qxc4,Nb4,h6,Kg3,Kh7,Rd7,Qc5,Rd5', 'Qg1+,Kh3,Re3,Qxe3,Qxe3+', 'https://lichess.org/training/EuSiy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EuStv', 'Blitz', 'chessgamer555', 2219, 'cashalot', 2012, 'd4,d6,Nf3,Nd7,c4,Ngf6,Nc3,e5,e4,Be7,Bg5,c6,Be2,Qc7,O-O,h5,d5,Nc5,Bxf6,Bxf6,b4,Nd7,Rc1,h4,c5,dxc5,bxc5,g5,d6,Qd8,Nd2,Nf8,Nc4,Bd7,Bg4,Ng6,Bxd7+,Qxd7,Qa4,g4,Nb6,Qd8,Nxa8,Qxa8,Nd5,Qd8,d7+,Kf8,Nxf6,Qxf6,Rcd1,Kg7,Qa5,Rd8,Qc7,Nf4,Qd6,Qg5,Qd2,Qf6,g3', 'Nh3+,Kh1,Qf3#', 'https://lichess.org/training/EuStv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('euT0q', 'Rapid', 'Elprin', 1897, 'IvanDriga', 2014, 'f4,d5,d4,Bf5,e3,e6,Nf3,Nf6,c3,Bd6,Be2,Nbd7,O-O,c5,b3,a6,Ba3,Qe7,Ne5,cxd4,Bxd6,Qxd6,cxd4,O-O,Bd3,Ne4,g4,Bg6,Nxg6,fxg6,Bxe4,dxe4,Nc3,Qc6,Rc1,Rac8,g5,Rf5,Qc2,Nb6,Qxe4,Rff8,Qxc6,Rxc6,Ne4,Rfc8,Rxc6,Rxc6,Nc5,Nd5,e4,Nc3,Nxb7,Nxa2,Nc5,Nc3,Ra1,Ne2+,Kg2,Nxf4+,Kf3,Nh3,Rxa6,Rxa6,Nxa6,Nxg5+,Kf4,h6,b4,Nf7,b5,Nd8,b6,Kf7,Nc5,Nc6,d5,e5+,Ke3,Nb8,Kd3,Ke7,Kc4,Kd6,Kb5,g5,Na6,Nd7,b7,g4,b8=Q+,Nxb8,Nxb8,h5,Na6', 'h4,Nc5,g3,hxg3,hxg3,Kb6,g2', 'https://lichess.org/training/euT0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eUueX', 'Rapid', 'emrerbas', 1728, 'snowbird122', 1776, 'g3,d5,b3,e5,Bb2,Nc6,Bg2,Nf6,e3,Bc5,Ne2,O-O,O-O,Re8,f4,exf4,Nxf4,Ne5,Bxe5,Rxe5,Nc3,d4,Nce2,dxe3,dxe3,Qxd1,Rfxd1,Bxe3+,Kf1,Bg4,Nd3,Rf5+,Ke1,Bf2+', 'Nxf2,Bxe2,Kxe2,Re8+,Kf1', 'https://lichess.org/training/eUueX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Euut6', 'Rapid', 'GrogIV', 2021, 'Abdullah33', 1915, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Bc5,Be3,O-O,h3,d5', 'Nxc6,bxc6,Bxc5', 'https://lichess.org/training/Euut6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('euUYx', 'Rapid', 'nicotoneatto', 1631, 'Dah', 1662, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Nxd4,Be7,Nc3,c6,Nf5,Bxf5,exf5,Nf6,O-O,Nbd7,f4,Nb6,Bd3,Qc8,Re1,Qd7,b3,O-O-O,Qf3,Nfd5,Nxd5,Nxd5,c4,Nb4,Qe3,Bf6,Qxa7,Bxa1,Be3,c5,Be4,Bf6', 'Qa8+,Kc7,Qxb7#', 'https://lichess.org/training/euUYx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Euv7e', 'Blitz', 'Edwardfs', 1642, 'ghencic', 1668, 'd4,d5,Nf3,e6,e3,c5,c4,Nf6,Nc3,dxc4,Bxc4,cxd4,Nxd4,Bb4,O-O,Bxc3,bxc3,O-O,Re1,Bd7,e4,Bc6,e5,Nd5,Bd2,a6,Qg4,b5,Bd3,g6,Bg5,Qa5,c4,bxc4,Bxc4,Bb7,Bxd5,Bxd5,Bf6,Rc8,Rec1,Nd7,Qh4,Rxc1+,Rxc1,Nxf6,exf6,h5,Qg5,Kh7,h3,Qxa2,Rc7,Rf8,Nf3,Bxf3,gxf3,a5,Qc5,Kg8', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/Euv7e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('euvfE', 'Rapid', 'farzinloco', 2023, 'Titanik14', 2016, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,b6,Bg5,Nbd7,Bf3,Bb7,O-O,Ne5,Bxf6,Nxf3+,Qxf3,gxf6,Qh5,Qd7,Nd5,Bxd5,exd5,Rg8,Ne6,h6,Rae1,Rc8,Re2,Rc4,Nxf8,Kxf8,Qxh6+,Ke8,Rd1,Qg4,f3,Qf5,Rde1,Rxc2,Rxe7+,Kd8,R7e2,Rxe2,Rxe2,Qxf3,Qe3', 'Rxg2+,Rxg2,Qxe3+', 'https://lichess.org/training/euvfE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('euxek', 'Blitz', 'kajaken', 1811, 'Nord_77', 1762, 'e4,g5,d4,Bg7,Bc4,e6,h4,c5,hxg5,Bxd4,Bf4,b5,c3,bxc4,cxd4,Qb6,Be5,Qxb2,Nd2,f6,gxf6,Nxf6,Bxf6,Kf8,Rb1,Qxa2,Bxh8,Nc6,Qf3+,Ke8,Bf6,c3,Qh5+,Kf8,Qh6+,Ke8,Qh5+,Kf8,Rd1,cxd2+,Rxd2,Qb1+,Ke2,Qxe4+,Kf1,Ba6+,Ne2', 'Qb1+,Rd1,Qxd1#', 'https://lichess.org/training/euxek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EUXqO', 'Rapid', 'Egorka18', 1953, 'costolom', 2019, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Nd7,Bxc6,bxc6,Qxd4,Bc5,Qg4,Nxe5,Qxg7,Nxf3+,gxf3,Qe7+,Kd1,Bd4,Qxd4,Rf8,Re1,Be6,f4,Bg4+,Kd2,Be6,f5,Qg5+,Kc3,Qxf5,Be3,a5,Nd2,Rg8,Nb3,Rg4,Qh8+,Ke7,Qxa8', 'Rc4+,Kd2,Qxc2#', 'https://lichess.org/training/EUXqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EUyCK', 'Classical', 'consulear', 1915, 'gabs96', 1877, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bc4,e6,Bg5,Be7,Bxe7,Nxe7,Qd2,Nb6,Bd3,a5,h4,Bxd3,Qxd3,Nbd5,h5,Nf4,Qf1,Qb6,O-O-O,a4,a3,c5,Ne2,Nfd5,dxc5,Qxc5,Ned4,O-O,h6,g6,Qb5,Qc7,Ne5,Qxe5,Nf3,Qc7,Qd3,Rfc8,Rd2,Qf4,Rh4,Qf6,g4,Nc6,g5,Ne5,gxf6,Nxd3+,Rxd3,Nxf6,Rb4,Rc7,Rbd4,Nd5,Ne5,Rac8,c3,b5,Rf3,f6,Ng4,Kf7,Nxf6,Nxf6,Rdf4,Kg8,Rxf6,Re8,Re3,Rc6,Re5,Rb6,Kd2,Rd8+,Ke3,Rd5', 'Rxd5,exd5,Rxb6', 'https://lichess.org/training/EUyCK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('euz2a', 'Rapid', 'uliwen', 2101, 'Liavon', 1915, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Bc4,e6,Nc3,Qd4,Qe2,Nbd7,Ngxe4,Nxe4,Nxe4,Nb6,Bb3,Bd6,c3,Qe5,d4,Qa5,Nxd6+,cxd6,O-O,O-O,Re1,Nd7,Bf4,d5,Be5,Nxe5,Qxe5,b5,Re3,Qd8,Rae1,Ba6,Rg3,g6,Bc2,b4,Ree3,bxc3,bxc3,Qb8,Qf6', 'Qb2,h4,Qxc2', 'https://lichess.org/training/euz2a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('euzkU', 'Classical', 'Erzbischof', 1656, 'chessimprover00', 1664, 'e4,d5,exd5,Nf6,c4,c6,Qa4,Bd7,dxc6,Bxc6,Qb3,e5,Nf3,Nbd7,d3,Nc5,Qc3,e4,Qe5+,Qe7,dxe4,O-O-O,Qf5+,Bd7,Qf4,Ncxe4,Be2,Qb4+,Bd2,Qxb2,O-O,Qxa1,a3,Qb2,Ba5,b6,Bb4,Bxb4,axb4,Qxe2,Ne5,Be6,Nc6,Qxf1+,Kxf1,Bxc4+,Ke1,Nd5,Qf5+,Rd7,Nxa7+,Kd8,Nc6+,Kc8,Na7+,Kd8,Nc6+,Kc7,b5,Bxb5,Nd4,Bd3,Qe5+,Kd8', 'Nc6+,Kc8,Qb8#', 'https://lichess.org/training/euzkU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('euZra', 'Rapid', 'Rupfer', 1970, 'joelmate', 2003, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,O-O,Qc7,Be3,b5,Nd5,Bxd5,exd5,Nbd7,f4,Be7,fxe5,Nxe5,a4,b4,a5,Nc4,Bxc4,Qxc4,Rf4,Qxd5,Rxb4,O-O,Rd4,Qc6,Qd3,Rac8,c4,Nd7,Bf4,Ne5,Qe2,Bf6,Nd2,Rfe8,Ne4', 'Nf3+,Qxf3,Bxd4+', 'https://lichess.org/training/euZra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EV0Jf', 'Rapid', 'antoniomozart', 1719, 'malikhanif', 1807, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,Nf6,Bg5,Be7,dxc5,Bxc5,e5,h6,exf6,hxg5,fxg7,Rg8,Bd3,Qb6,O-O,Rxg7,Qd2,Be7,b3,d5,Bb5,Bd7,Bxc6,Bxc6,Ne5,O-O-O,a4,Bd6,Nxc6,Qxc6,Nb5,Kb8,Qd4,Rh8,Qxg7', 'Bxh2+,Kh1,Be5+,Qxh8+,Bxh8', 'https://lichess.org/training/EV0Jf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ev3Bn', 'Blitz', 'retardedonkey', 2090, 'andreika59', 2106, 'd4,d5,Nf3,c5,e3,Nc6,Nbd2,Bf5,dxc5,e5,Nb3,Nb4,Bb5+,Bd7,Bxd7+,Qxd7,Nxe5,Qf5,Nd3,Nxd3+,cxd3,Nf6,O-O,Be7,d4,O-O,Nd2,Bd8,Qf3,Qg6,Qg3,Qf5,b4,Rc8,Bb2,Bc7,Qf3,Qg6,g3,h5,h4,Rce8,b5,Ne4,Nxe4,Rxe4,Kh1,Rfe8,Rg1,R8e6,Qg2,Rf6,Rae1,Qg4,c6,bxc6,bxc6,Qxh4+,gxh4,Rxh4+,Qh3', 'Rxh3+,Kg2,Rh2+,Kf1,Rhxf2#', 'https://lichess.org/training/Ev3Bn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eV5nw', 'Rapid', 'ogheitun', 1960, 'timot2', 1981, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,h3,dxc4,Bf4,c6,a4,Nd5,Nxd5,cxd5,e3,O-O,Be2,Nc6,O-O,Bf5,Nd2,a6,Nb1,Bxb1,Qxb1,b5,b3,e5,dxe5,Nxe5,axb5,axb5,Rxa8,Qxa8,bxc4,bxc4,Qc2,Qc6,Bxe5,Bxe5,Bf3,Qc5,Rd1,d4,Be2,dxe3,Bxc4,exf2+,Kf1,Bd4,Qe2,Rc8,Rc1,Kg7,Rc2,Qa7,Qd1,Qb6,Bd3,Re8,Be2,Qe6,Qxd4+,f6,Kxf2', 'Qf5+,Kg3,Qxc2,Qd7+,Kf8', 'https://lichess.org/training/eV5nw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ev6g7', 'Rapid', 'Cantread', 1887, 'safdel', 1843, 'd4,c6,e4,d5,e5,Bf5,Ne2,e6,Ng3,Bg6,h4,h5,Bd3,Bxd3,Qxd3,g6,Nd2,c5,c3,Nc6,Nf3,cxd4,cxd4,Rc8,a3,a6,Bg5,Qb6,O-O,Na5,Rac1,Rxc1,Rxc1,Ne7,Bxe7,Bxe7,Rc8+,Bd8,Qe3,Nc6,Qg5,Ne7,Qf6,Rf8,Ng5,Kd7,Rc2', 'Nf5,Nh7,Bxf6', 'https://lichess.org/training/ev6g7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eV6Lt', 'Rapid', 'ilayda26', 1785, 'mis64escaques', 1774, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,Bg4,h3,Bh5,d3,Bxf3,Qxf3,Nd4,Qd1,Be7,Bxb7,Rb8,Be4,O-O,O-O,Qd7,c3,Ne6,Rb1,Nf4,Qf3,Ng6,Qg3,f5,Bf3,Qxd3,Ra1,Bc5,Rd1,Qc2,Rd2,Qa4,b3,Qe8,Bh5,e4,Re2,Qd7,Bxg6,Qd1+,Kh2,Bd6,Bf4,Bxf4,Qxf4,Qxe2,Bxf5,Kh8,Qxc7,Qxf2,Bxe4,Qf4+,Qxf4,Rxf4,Bf3,Rc8,c4,g6,Re1,Rd4,Bg4,Rc7,Bf3,Rd2,Ra1,a5,a4,Rb2,Bd1,Kg7,Ra3,Rd7,Bf3,Rd3,c5,Rbxb3,Ra1,Rdc3,c6,Kf7,Rd1,Ke6', 'Bd5+,Ke7,Bxb3', 'https://lichess.org/training/eV6Lt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eV7eG', 'Rapid', 'dinocharles', 1761, 'celesteyblanca1', 1806, 'g4,g6,Bg2,Bg7,c4,c6,Nc3,Qb6,a3,Nf6,Na4,Qd4,d3,Nxg4,e3,Qf6,Qxg4,O-O,Qf3,Qd6,Qe2,b5,cxb5,Bb7,bxc6,Bxc6,Bxc6,Qxc6,Qf3,Qxa4,Qxa8,Nc6,Qb7,Rb8,Qxd7,Bxb2,Rb1', 'Bc3+,Kf1,Rxb1', 'https://lichess.org/training/eV7eG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ev7TO', 'Rapid', 'cormichu', 1736, 'Ashu9125', 1679, 'd4,c5,c3,Nc6,e3,Nf6,Bd3,e6,Nd2,d5,f4,c4,Bc2,h6,Ngf3,Bd6,Ne5,O-O,O-O,Nd7,e4,f6,Nxd7,Bxd7,e5,fxe5,fxe5,Be7,Nf3,Be8,Qe1,Bh5,Bd1,Qe8,Be3,Qg6,Rf2,Qe4,Bc2,Qg4,h3,Qg3,Nh2,Bh4,Rxf8+,Rxf8,Qxg3,Bxg3,Ng4,Bxg4,hxg4,Ne7,Rf1', 'Bh2+,Kxh2,Rxf1', 'https://lichess.org/training/Ev7TO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EvAfJ', 'Rapid', 'Bajirao153', 1754, 'mustanco', 1737, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,d5,exd5,Na5,Bb3,exd5,Bc2,Qe7+,Qe2,Qxe2+,Kxe2,Nf6,Re1,Be7,Kf1,Be6,d4,O-O,Kg1,cxd4,Nxd4,Ng4,Nd2,Bc5,N2f3,Bxd4,Nxd4,Rfe8,h3,Nf6,Bg5,Nd7,Re3,Nc4,Rg3,Nxb2,Rb1,Nc4,Rxb7,Nc5,Nxe6,fxe6,Rc7,Rec8,Bf4,Rxc7,Bxc7,Rc8,Bf4,Na3,Bb3,Nxb3,axb3,Nb5,Be5,g6,h4,d4,cxd4,Nc3,Kf1,Ne4,Rg4,Rc1+,Ke2,Nc3+,Kd2,Na2,h5,Rf1,f4,Kf7,h6,Nb4,Kc3,Nd5+,Kc4,Rc1+,Kb5,Rb1,Rg3,Rc1,Ka6,Ra1+,Kb5,a6+,Kc4', 'Rc1+,Kd3,Rc3+,Kd2,Rxg3', 'https://lichess.org/training/EvAfJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evBnv', 'Rapid', 'SneakyNewbie', 1704, 'FrankStorm', 1722, 'c4,c5,g3,g6,Bg2,Bg7,d3,Qb6,Nc3,Nf6,Bg5,O-O,Bxf6,Bxf6,Rb1,e6,Nf3,Nc6,O-O,Nd4,Nxd4,Bxd4,a3,Qd8,Nb5,Be5,b4,a6,f4,Bg7,Nd6,cxb4,axb4,Rb8,e4,Bd4+,Kh1,Qc7,e5,b6,h4,a5,Nb5,Qd8,Nxd4,axb4,Nb5,Bb7,Nd6,Bxg2+,Kxg2,Ra8,h5,Ra2+,Rf2,Qa8+,Qf3', 'Rxf2+,Kxf2,Qa2+,Ke1,Qxb1+', 'https://lichess.org/training/evBnv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EvCd6', 'Blitz', 'DonKposky', 2200, 'FM chef26', 2314, 'e4,c6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,Bf5,Ne2,Be4,Nd2,Bxf3,Nxf3,e6,O-O,c5,c4,Nc6,Bg5,cxd4,Nexd4,Nxd4,Nxd4,Be7,Nb5,O-O,Qf3,Qb6,b3,a6,Bxf6,Bxf6,Nc3,Qa5,Rac1,b5,Ne4,Bd4,Rc2,bxc4,bxc4,Rac8,Qd3,Rfd8,Qe2,Rc6,h3,Rdc8,Rfc1,h6,Qd3,e5,Ng3,Qd8,Kh2,Bxf2', 'Qxd8+,Rxd8,Rxf2', 'https://lichess.org/training/EvCd6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EvcIO', 'Rapid', 'Murxer', 2162, 'pawell_home', 2140, 'e4,c5,Nc3,d6,f4,e6,Nf3,Nc6,Bc4,a6,a3,Bd7,d3,Rc8,Ba2,Nd4,Nxd4,cxd4,Ne2,e5,f5,Nf6,O-O,Be7,Ng3,Qc7,Nh5,O-O,Nxf6+,Bxf6,Qg4,Qxc2,Qg3,Bb5,Bh6,Qxd3,Qg4,Rc2,Bxg7,Bxg7,f6,Qe3+,Kh1,Qh6,fxg7,Qxg7,Qxg7+,Kxg7,Rf3,d3,a4,d2,axb5,Rfc8,Rxf7+,Kg6,Rd1,Rxb2,Bd5', 'Rc1,Rff1,Rbb1,Bb3,Rxb3', 'https://lichess.org/training/EvcIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EVckm', 'Rapid', 'Taliths', 2005, 'StrViktor', 1974, 'e4,c6,d4,d6,Nf3,Bg4,Bf4,Nf6,Nc3,Qa5,Bd3,Nbd7,O-O,e5,dxe5,Nxe5,Bxe5,dxe5,h3,Bh5,a3,Qc7,Be2,Rd8,Qe1,Bg6,Bc4,Bc5,b4,Bd6,Qe3,O-O,Rfe1,b5,Bb3,a6,Rad1,c5,Nd5,Nxd5,exd5,cxb4,Nxe5,Bxe5,Qxe5,Qxe5,Rxe5,bxa3,Ra1,b4,Re7,Ra8,d6,Rad8,d7,Bf5,Ba4,Be6,Rb1,Rb8,c3,a2,Ra1,bxc3,Rd1,Rb1,d8=Q,a1=Q', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/EVckm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EVcvV', 'Blitz', 'mansouri', 1859, 'AndreUChess2006', 1793, 'd4,Nf6,Nf3,c5,d5,d6,c4,b5,b3,g6,Bb2,Bg7,Nc3,O-O,Nxb5,a5,a4,Ba6,Nc3,Nbd7,e3,Qb6,Qc2,Rfb8,Nb5,Bxb5,axb5,Ra7,Bd3,Rba8,O-O,Qb7,h4,Nb6,Qd2,a4,b4,a3,Bc3,cxb4,Bxb4,Nfxd5,cxd5,Nxd5,Ra2,Nxb4,Qxb4,Qd5,Qc4,Qb7,Rc1,Bb2,Rc2,Qb6,Nd4,Ra4,Qc6,Qa5,Nb3,Qe1+,Kh2,Be5+,g3', 'Rxh4+,Kg2,Qh1#', 'https://lichess.org/training/EVcvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Evd2c', 'Rapid', 'Hik1986', 1747, 'TheNotoriousNIG', 1787, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bg5,cxd4,cxd4,Qb6,b3,Nf5,Be3,Nxe3,fxe3,Bb4+,Nbd2,O-O,Bd3,f6,exf6,Rxf6,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Qc7', 'Qh7+,Kf8,Qh8+,Ke7,Qxg7+,Kd6,Qxf6', 'https://lichess.org/training/Evd2c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evdgf', 'Classical', 'JFischer2008', 2082, 'KuzinIgor1986', 2110, 'd4,Nf6,Bf4,g6,e3,d5,Nf3,Bg7,Be2,O-O,O-O,c6,c3,Nbd7,h3,Re8,Bh2,Ne4,Nbd2,Nxd2,Qxd2,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Rxe5,Rad1,Rg5,Kh1,Bd7,e4,Qf6,exd5,Rxd5,Qh6,Be6,Bf3,Rf5,Bg4,Re5,Bxe6,Qxe6,b3,Re8,Rd2,Qf6,Kh2', 'Rh5,Qxh5,gxh5', 'https://lichess.org/training/evdgf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eVgxj', 'Rapid', 'abol3', 1858, 'CrapCrusher', 1984, 'e4,e5,Nf3,Nc6,a3,Nf6,Qe2,Bc5,d3,d6,Be3,Bxe3,Qxe3,Nd4,Nxd4,exd4,Qxd4,Qe7,Be2,c5,Qe3,O-O,f4,Bg4,h3,Bxe2,Qxe2,Rfe8,g4,d5,e5,Nd7,Nc3,Nb6,O-O-O,d4,Ne4,Nd5,Rhe1,Nxf4,Qf3,Nd5,Ng3,Ne3,Rd2,Qxe5,Nf5,Qd5', 'Rxe3,Qxf3,Rxf3', 'https://lichess.org/training/eVgxj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evHFU', 'Rapid', 'murmoor', 1744, 'matysz88', 1681, 'd4,Nf6,c4,c5,d5,e6,Nc3,Be7,e4,d6,Bd3,exd5,cxd5,O-O,Nf3,Bg4,O-O,a6,h3,Bh5,Be2,b5,a3,Bg6,Bf4,Nxe4,Nxe4,Bxe4,Nd2,Bxd5,Nb3,Bxb3,Qxb3,c4,Qg3,Bf6,Rab1,d5,Bf3,Ra7,Rfd1,d4,Bd6,Re8,Bc5,Rd7,Bg4,Be5,Qf3,Rd5,Bb4,a5,Bd2,d3,Bxa5,Qd6,Bb4,Qc6,Bf5,Rd4,Qxc6,Nxc6,Bc3,Rf4,Bd7,Re7', 'Bxc6,Bxc3,bxc3', 'https://lichess.org/training/evHFU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EVhva', 'Rapid', 'Zay-Di', 2086, 'volodya93', 2026, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,bxc6,O-O,Bc5,Be3,O-O,f3,Ng5,f4,Ne6,c3,f6,Kh1,fxe5', 'Nxe6,Bxe6,Bxc5', 'https://lichess.org/training/EVhva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evIDp', 'Blitz', 'paulguardo', 1768, 'tryphon_du_93', 1743, 'e4,e5,Nf3,f5,Nc3,fxe4,Nxe4,d5,Nc3,e4,Nd4,Bc5,Qh5+,g6,Qe5+,Qe7,Qxh8,Qf8,Qe5+,Ne7,Nxd5,Nc6,Nxc6', 'Qxf2+,Kd1,Bg4+,Be2,Qxe2#', 'https://lichess.org/training/evIDp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eViiZ', 'Rapid', 'abudraj777', 1777, 'FeelsKappablancaMan', 1829, 'e4,c5,Bc4,e6,Nc3,Be7,d3,Nf6,Nge2,O-O,Ng3,d5,exd5,exd5,Bb3,Re8,O-O,Bg4,f3,Be6,a3,c4,dxc4,Qb6+,Kh1,dxc4,Ba4,Rd8,Qe2,Na6,b3,Qd4,Bb2,Nc5,Rad1,Qf4,Nb5,Nd5,Be5,Qg5,f4,Qh4,Nc7,Bg4,Qf2,Bxd1,Nxa8,Rxa8,Rxd1,Rd8,Bxg7,Kxg7', 'Nf5+,Kf8,Nxh4', 'https://lichess.org/training/eViiZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eVJiV', 'Rapid', 'kolcon', 1917, 'joses217', 1743, 'e4,e5,Bc4,d6,Nc3,Qf6,Nd5,Qd8,Nf3,c6,Nc3,Qf6,h3,Be7,O-O,Qg6,Kh1,Nf6,d4,Nxe4,Nxe4,Qxe4,Bd3,Qd5,c4,Qe6,dxe5,dxe5,Re1,f6,Nd4,Qd6,Nf5,Bxf5,Bxf5,Qxd1,Rxd1,O-O,Be3,b6,b3,g6,Be6+,Kg7,Rd3,Na6,a3,Nc7', 'Rd7,Nxe6,Rxe7+,Kg8,Rxe6', 'https://lichess.org/training/eVJiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EvK1w', 'Blitz', 'OakCliffTX', 2122, 'temonwdyt910', 2017, 'd4,Nf6,e3,g6,Nf3,c5,Be2,Bg7,O-O,cxd4,Nxd4,O-O,b3,d6,Bb2,Nc6,c4,Ne8,Nxc6,bxc6,Bxg7,Nxg7,Bf3,Bb7,Nc3,Rb8,Qd2,Ne6,Rfe1,Ng5,Be2,c5,Rad1,Qd7,Nd5,Ne4,Qc2,Ng5,h4,Ne6,h5,f5,h6,Ng5,Qc3,e5,f4,Ne4,Qb2,exf4,exf4,Bxd5,Rxd5,Rf7,Bf3,Re8,Bxe4,Rxe4,Red1,Re3,Rxd6,Qe7,Rd8+,Rf8,R1d7', 'Re1+,Kf2,Qe3#', 'https://lichess.org/training/EvK1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eVKVF', 'Rapid', 'Team_Rubio', 1933, 'bavaresco2001', 1864, 'd4,Nf6,Bf4,d5,c4,c6,cxd5,cxd5,Nc3,Bf5,Qb3,Qd7,e3,a6,Bxb8,Rxb8,Nf3,e6,Ne5,Qd8,Bxa6,bxa6,Qa4+,Nd7,Nc6,Qc7,Nxb8,Qxb8,b3,Bb4,Rc1,Bd3,a3,Bd6,Kd2,Bg6,b4,Qb7,b5,axb5,Nxb5,Bb8,Qb4,Nb6,Rc3,Nc4+', 'Rxc4,dxc4,Nd6+,Bxd6,Qxb7', 'https://lichess.org/training/eVKVF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Evl4i', 'Classical', 'ivan_a', 1688, 'yerboiMatias', 1604, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d3,d5,exd5,Nxd5,Nxd5,Qxd5,c4,Bb4+,Bd2,Bxd2+,Qxd2,Qd6,O-O-O,Nb4,Nxe5,Nxa2+,Kb1,Qxe5', 'Re1,Qxe1+,Qxe1+', 'https://lichess.org/training/Evl4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evM9M', 'Rapid', 'scherenaxt', 2097, 'arhdv', 2078, 'e4,c5,f4,d5,exd5,Qxd5,Nf3,Nc6,Nc3,Qd8,Bb5,Bd7,O-O,a6,Bc4,e6,f5,exf5,d3,Be7,Qe1,Nf6,Bg5,O-O,Ne5,Nxe5,Qxe5,b5,Bb3,b4,Ne2,a5,Rae1,Re8,Bxf6,Bxf6,Qxc5,Rc8,Qa7,Bc6,Rxf5,Rxe2', 'Qxf7+,Kh8,Rxe2', 'https://lichess.org/training/evM9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EvMKo', 'Rapid', 'kasvarazi_dewa', 1695, 'huin', 1716, 'd4,Nf6,Nf3,d5,Bg5,Nc6,Bxf6,exf6,c3,Bd6,Qc2,g6,e4,dxe4,Qxe4+,Ne7,Be2,Bf5,Qxb7,Rb8,Bb5+,Kf8,Qa6,Rb6,Qa4,Nd5,O-O,Qb8,c4,Nf4,Nc3,Nd3,Nd5,Nxb2,Qa5,c6,Nxb6,cxb5,Nd5,Nxc4,Qe1,Bd3,Nxf6,Bxf1', 'Nd7+,Kg7,Nxb8', 'https://lichess.org/training/EvMKo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EVMNe', 'Rapid', 'jcrioux17', 1648, 'halilibo50', 1601, 'd4,d5,c4,Nf6,Nc3,Nc6,Nf3,dxc4,e3,Bg4,Bxc4,e6,Be2,Bb4,Bd2,O-O,O-O,Nh5,Qc2,Bd6,e4,Bxf3,Bxf3,Nxd4,Qd3,c5,Bxh5,c4,Qh3,Bb4,Rad1,g6,Bf3,Qf6,Be3,Nxf3+,Qxf3,Qxf3,gxf3,Ba5,Rd7,b6,Rfd1,h5,e5,b5,Nxb5,a6,Nd6,h4,Bg5,h3,Be7,Rfb8,Bf6,Rxb2,Rxf7,Rab8,Rg7+,Kf8,Kf1,Rb1,Rxb1', 'Rxb1+,Ke2,Re1#', 'https://lichess.org/training/EVMNe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eVMrN', 'Rapid', 'alifiras', 1848, 'henriquebgomeshbg', 1826, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Nf6,d4,d5,exd5,Nxd5,O-O,cxd4,Nxd5,exd5,Re1+,Be6,Bb5,Bc5,Ne5,O-O,Nxc6,bxc6,Bxc6,Rc8,Bb7,Rc7,Ba6,Qh4,Bd3,f5,Rxe6,f4,Qf3,Rcf7,Qxd5,f3,Qxc5,fxg2,Re2,Rxf2,Qxf8+,Rxf8,Kxg2', 'Qg4+,Kh1,Rf1#', 'https://lichess.org/training/eVMrN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evn41', 'Rapid', 'abnkhaledelmasry', 2103, 'ortega88', 1780, 'f4,c5,e3,Nc6,Nf3,d6,Be2,a6,O-O,Bf5,d3,g6,e4,Bd7,Nc3,e6,b3,Bg7,Bb2,b5,Qc1,Nd4,Nxd4,cxd4,Nd1,e5,f5,Nf6,fxg6,fxg6,Nf2,O-O,c4,Rc8,Qd2,Qb6,cxb5,axb5,Kh1,d5,exd5,Nxd5,Bf3,Ne3,Rfc1,g5,Rxc8,Rxc8,Ne4,g4,Bd1,Bh6,Qf2,Rf8,Bf3,gxf3,gxf3,Kh8,Rc1,Ng4,Qg3,Bxc1,Bxc1,Qc6,Ba3,Rg8,fxg4,Rxg4,Qxe5+,Rg7,h4,b4,Bb2,Qc2,Qxd4', 'Qg2#', 'https://lichess.org/training/evn41');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evOj3', 'Rapid', 'Spassk', 1828, 'karjakin23', 1798, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d5,Nbd2,c6,c4,Bg4,b3,Bxf3,Nxf3,e6,Bb2,dxc4,bxc4,Nbd7,e3,Qc7,Ba3,Rfd8,Rb1,Nb6,Nd2,Rab8,Bb4,Nbd7,a4,c5,Bxc5,Nxc5,dxc5,Nd7,c6,bxc6,Rxb8,Nxb8,Qc2,c5,Rb1,Na6,Rb7,Qa5,Nb3', 'Qe1+,Bf1,Rd1,Qxd1,Qxd1', 'https://lichess.org/training/evOj3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evP01', 'Rapid', 'gugabom', 1636, 'wyvernn', 1634, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,Nc6,g3,dxc4,e4,Nd7,Bxe7,Nxe7,Bxc4,O-O,O-O,Nb6,Bb3,c6,Qd3,Ng6,Bc2,Re8,e5,Nd5,Nh4,Nxc3,bxc3,a5,Nxg6,fxg6,f4,b6,Rad1,Ba6,c4,b5,Bb3,bxc4,Bxc4,Bxc4,Qxc4,Qd5,Rc1,Red8,Qxc6,Qxd4+,Rf2,Kf7,Qb7+,Qd7', 'Rc7,Qxc7,Qxc7+', 'https://lichess.org/training/evP01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evp7f', 'Rapid', 'ahmad12321', 1751, 'Kshathriyan', 1773, 'e4,c5,Bc4,e6,d4,d5,exd5,exd5,Bb5+,Bd7,Be2,cxd4,Qxd4,Nf6,Bg5,Nc6,Bxf6,Nxd4,Bxd8,Rxd8,Bd3,Be7,Ne2,Nxe2,Bxe2,O-O,O-O,Bf6,c3,Rfe8,Bd3,d4,cxd4,Bc6,Nc3,Rxd4,Rad1,Red8,Bc2,h6,Rxd4,Rxd4,Rd1,Rxd1+,Bxd1,g5,Bf3,Bxf3,gxf3,Bxc3,bxc3,Kg7,Kg2,Kf6,Kg3,Ke5,Kg4,f5+,Kh5,Kf4,Kxh6,g4,fxg4,fxg4,Kh5,b5,Kh4,a5,h3', 'gxh3,Kxh3,Kf3', 'https://lichess.org/training/evp7f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EVP9R', 'Blitz', 'policeistanbul', 1920, 'Mantikora87', 2263, 'e4,d5,Nc3,d4,Nce2,e5,Ng3,Nc6,a3,a5,Bc4,Nf6,d3,Bg4,N1e2,Bc5,O-O,O-O,f4,exf4,Rxf4,Ne5,Ba2,Ng6,Rf1,Be6,Bg5,Be7,Qe1,Bxa2,Rxa2,c5,b3,a4,b4,cxb4,axb4,Qb6,Qb1,Ng4,Bd2,Ne3,Rf3,Ne5,Rf2,Bh4,Bxe3,dxe3,Rf5,Nc6,b5,Nd4,Rd5,Nxe2+,Nxe2,Bf2+,Kh1,Rfd8,Rxd8+,Qxd8,b6,Ra5,Qb4,Rh5,Rxa4', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/EVP9R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evPb4', 'Rapid', 'Reedmanjim', 1719, 'hgranok', 1731, 'd4,d5,Nc3,e6,Bf4,Bb4,e3,Ne7,Ne2,c6,a3,Ba5,g4,Nd7,Bg2,Nf6,O-O,Nxg4,h3,Nf6,Be5,Ng6,Ng3,c5,Bxf6,Qxf6,Qf3,Qe7,Qe2,Nh4', 'Qb5+,Bd7,Qxa5,b6,Qa6', 'https://lichess.org/training/evPb4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eVPba', 'Rapid', 'Hermes91', 1639, 'zidriusz', 1673, 'e4,e6,d4,d5,e5,Ne7,Nc3,Nf5,Nf3,Bb4,Bd2,Nc6,a3,Be7,b4,Ncxd4,Nxd4,Nxd4,Be3,Nf5,Qd3,a6,b5,axb5,Qxb5+,c6,Qd3,d4,Rd1,Nxe3,fxe3,dxc3,Qxc3,Qc7,Bb5,Rxa3,Qc4,Rxe3+,Kf2,Qxe5,Bxc6+,bxc6', 'Qxc6+,Bd7,Qxd7+,Kf8,Qc8+,Bd8,Qxd8#', 'https://lichess.org/training/eVPba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evpuS', 'Blitz', 'Banzking143', 2007, 'markomacak', 1994, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c3,Be7,Bd3,O-O,Bg5,c5,Nbd2,Be6,Qc2,h6,Bxf6,Bxf6,Bh7+,Kh8,Bf5,Nc6,O-O,Rc8,Bxe6,fxe6,Qd3,e5,dxe5,Nxe5,Nxe5,Bxe5,Nf3,Bf6,Rad1,d4,cxd4,cxd4,Nxd4,Qa5,Ne6,Rfe8,Nf4,Qxa2,Ng6+,Kg8,Ra1,Qc4,Qd7,b6,Rxa7', 'Qxf1+,Kxf1,Rc1+,Qd1,Rxd1#', 'https://lichess.org/training/evpuS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eVRCf', 'Blitz', 'shirpange1360', 1605, 'Djonsui', 1586, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,d5,exd5,exd5,Nxc6,bxc6,Bb3,Qe7+,Be3,Ba6,Nc3,Rd8,Na4,d4,Qf3,dxe3,Qxc6+,Qd7,Qxa6', 'Qd2+,Kf1,Qxf2#', 'https://lichess.org/training/eVRCf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EvRoN', 'Classical', 'TantePose', 1846, 'Intelligence64', 1889, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,a6,a4,Nf6,e5,Nd5,c3,Nb6,Ba2,Qc7,Re1,g6,d3,Bg7,d4,cxd4,cxd4,d5,b3,Bd7,Bg5,O-O,Bf6,Bxf6,exf6,Qd8,Qd2,Qxf6,a5,Nc8,Nc3,Nd6,Na4,Nf5,Nc5,Bc8,Na4,Ncxd4,Nxd4,Nxd4,Nb6,Rb8,Rad1,Nf5,Qf4,e5,Rxe5,Be6,g4,Qh4,Rxe6,fxe6,Nd7,Rbd8,Nxf8,Rxf8,Rd2,Nd6,Qxd6,Qxg4+,Qg3,Qb4,Qe3,Rf6,Rc2', 'Qg4+,Kf1,Qd1+,Qe1,Qxc2', 'https://lichess.org/training/EvRoN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eVSnZ', 'Rapid', 'mannguptagrawal', 1542, 'Swapneshrana', 1525, 'd4,g6,e4,Bg7,d5,e5,c4,d6,b4,Nf6,Nc3,O-O,c5,c6,cxd6,cxd5,exd5,Qxd6,b5,b6,Nf3,Bg4,Bf4,exf4,Bc4,Re8+,Kd2,Bxf3,Qxf3,Nbd7,Rhe1,Nc5,Rxe8+,Rxe8,g3,Nfe4+,Nxe4,Bxa1,Nxd6,Rd8,Nxf7,Rf8,Nh6+,Kg7,Ng4,fxg3,Qe3,gxh2,Nxh2,h5,f4,Rf5,Qe7+,Kh6,d6,Rxf4,d7,Nxd7,Qxd7,Rd4+,Qxd4,Bxd4,Kd3,Bc5,Nf3,g5,Ne5,g4,Nd7,g3,Bd5,h4,Ke2,h3,Kf1,Kg5,Bg2,hxg2+,Kxg2,Kg4,a4,Kf4', 'Nxc5,bxc5,a5,c4,b6,axb6,axb6,c3,b7', 'https://lichess.org/training/eVSnZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evsw3', 'Rapid', 'best_emm', 2152, 'slonechka', 1778, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,c4,c5,Nb5,a6,N5c3,Nc6,Nd5,Bg5', 'Bxg5,Qxg5,Nc7+', 'https://lichess.org/training/evsw3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EVT5U', 'Blitz', 'GM TibiGi', 2411, 'VARAD45', 2102, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d6,c4,Nbd7,Nc3,e5,e4,c6,h3,Qe7,Kh2,a5,Re1,Rd8,Be3,Rb8,Qc2,b5,cxb5,cxb5,Bg5,h6,Nd5,Qe6,Nc7,Qe7,Nd5,Qe6,Be3,Bb7,Nc7,Qe7,Nd5,Nxd5,exd5,Bxd5,dxe5,dxe5,Rad1,Bc4,b3,Be6,Nd2,Rbc8,Qb1,Nc5,Ne4,Nxe4,Bxe4,f5,Bg2,Kh7,Bb6,Rxd1,Rxd1,e4,Bxa5,Bc3,Bxc3,Rxc3,Qb2,b4,Qd2,Qc7,Qd4,Rc2,Rd2,Rxd2,Qxd2,Qc3,Qd6,Bf7,Qe7,Kg7,h4,Qb2,h5,Qxf2,hxg6,Kxg6,Qd6+,Kg7,Qxb4,e3,Qd4+,Kg6,Qd6+,Kg7,Qd4+,Kg6,b4,Qd2,Qf4,Qxa2,b5,Qe6,b6,Qxb6,g4,Qe6', 'gxf5+,Qxf5,Be4,Qxe4,Qxe4+', 'https://lichess.org/training/EVT5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EvTJf', 'Blitz', 'amiyanit', 1625, 'retriew', 1617, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,h3,Bc5,d3,h5,Be3,Qd6,Be2,Bd7,Bxc5,Qxc5,O-O,Qd6,Nc3,Ng4,Bxg4,hxg4,e5,Qh6,e6,Bxe6,f4,O-O-O,f5,gxh3,fxe6,hxg2,Qg4,Qh2+,Kf2,gxf1=Q+,Kxf1,Qh1+,Ke2,Rh2+,Ke3,Qxa1', 'e7+,f5,Qxf5+,Kb8,exd8=Q#', 'https://lichess.org/training/EvTJf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EvVfI', 'Classical', 'zokdid', 1916, 'sayandetox', 1696, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nc3,Bb4,Qd3,Nf6,Bd2,Bxc3,Bxc3,Qxe4+,Qxe4+,Nxe4,Bd3,Nxc3,bxc3,O-O,O-O,Ne5,Nb5,c6,Nd6,Nxd3,cxd3,b6,Rfe1,Ba6,d4,Rab8,Re7,Rbd8,Rae1,g6,R1e3,f5,Rh3,Rf6,Ne8,Rf7,Rxh7,Rxh7', 'Nf6+,Kf8,Rxh7', 'https://lichess.org/training/EvVfI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eVvGP', 'Rapid', 'basico', 1830, 'nicathsynl', 1847, 'e4,c5,Nf3,d6,h3,Nf6,Nc3,Nc6,d3,h6,Be2,e6,a3,Be7,O-O,O-O,Nh2,d5,exd5,exd5,f4,Re8,Ng4,Nd4,Nxf6+,Bxf6,Bf3,Nxf3+,Qxf3,d4,Ne4,Be7,Bd2,Qb6,b4,cxb4,Bxb4,Bxb4,axb4,Qxb4,Rab1,Qa4,Qg3,Kh7,f5,Bd7,f6,g6,Qc7,Be6,Nc5,Qxc2', 'Nxe6,Qxc7,Nxc7', 'https://lichess.org/training/eVvGP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EVVq8', 'Rapid', 'JacksonSiqueira', 1928, 'AguaGelada', 1853, 'd4,d5,Nf3,Nf6,Bg5,e6,e3,Be7,h3,Nbd7,Be2,c5,c4,cxd4,Nxd4,dxc4,Bxc4', 'Qa5+,Nd2,Qxg5', 'https://lichess.org/training/EVVq8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Evw4G', 'Rapid', 'Schwarzenbeck', 1884, 'Ayildiray', 1864, 'e4,e6,d4,d5,Bd3,Nf6,Nd2,Bb4,c3,Ba5,Ngf3,c5,dxc5,Nc6,O-O,O-O,Nb3', 'dxe4', 'https://lichess.org/training/Evw4G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Evwrx', 'Rapid', 'NM elephantPair', 2324, 'MrMosasaurus', 2257, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,c6,Nc3,d5,cxd5,cxd5,Nf3,O-O,O-O,Ne4,Ne5,Nxc3,bxc3,Qa5,Qb3,e6,Ba3,Re8,Bb4,Qc7,Qa4,Nd7,f4,a5,Ba3,b5,Qxb5,Rb8,Qc6', 'Bxe5,Qxc7,Bxc7', 'https://lichess.org/training/Evwrx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('evWt0', 'Rapid', 'shahka', 1875, 'kave_man', 1733, 'e4,Nf6,e5,Nd5,d4,Nc6,Bc4,e6,Nf3,d6,Bxd5,exd5,O-O,dxe5,dxe5,Bg4,h3,Bxf3,Qxf3,Nxe5,Re1,Bd6,Bf4,f6,Qxd5,Qe7,Nc3,O-O-O,Qa5,Kb8,Nb5,a6,Nxd6,Qxd6,Bxe5,fxe5,Qxe5,Qc6,c3,g6,Rad1,Rxd1', 'Qxh8+,Ka7,Rxd1', 'https://lichess.org/training/evWt0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EvXPN', 'Blitz', 'dasmorph', 1597, 'Elnaz20', 1518, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,Ba6,b3,exd4,Qxd4,c5,Qd5,Nf6,c4,Nxd5,exd5,Qe7+,Be3,O-O-O,O-O,f5,Re1,g6,Bxc5,Qf6,Bxa7,Qxa1,Na3,Qxa2,Nb1,Qxb3,Nd4,Qxc4,Nc6,Rd7', 'Re8+,Rd8,Rxd8+,Kb7,Rb8#', 'https://lichess.org/training/EvXPN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ew18P', 'Rapid', 'Gumar5', 1914, 'Raghung42', 1871, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bb5,d6,O-O,Bg4,Be2,Nf6,h3,Bh5,d3,h6,a3,g5,b4,Bb6,Nh2,Bxe2,Qxe2,h5,Nd5,Nxd5,exd5,Nd4,Qd1,g4,c3,Nf5,d4,gxh3,g3,Qd7,Be3,exd4,Bxd4,Nxd4,cxd4,O-O-O,a4,a5,Rb1,f5,bxa5,Bxa5,Qb3,b6,Rfc1,Kb7,Rc6,Rhg8,Qb5,Ra8', 'Rxb6+,cxb6,Qxd7+', 'https://lichess.org/training/ew18P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EW43f', 'Rapid', 'WarShoe', 2259, 'MarcosValentino', 1890, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Be2,Bd6,O-O,O-O,d4,Qc7,c4,Re8,Re1,Bd7,Bd2,Na6,a3,Rad8,b4,Bg4,h3,Bh5,Qc1,Qd7,Be3,Bb8,Qc3,Qc7,a4,Bxf3,Bxf3,Qh2+,Kf1,f5,g3,Qxh3+,Bg2,Qg4,b5,Nc7,bxc6,bxc6,Bxc6,Re7,Bf4,Re4,Bxe4,fxe4,Rxe4,Qh3+,Kg1,Ne6,Bxb8,Rxb8,Rae1,h6,d5,Ng5,Re8+,Rxe8,Rxe8+,Kh7,Qd3+,g6,f4,Qd7,Qe3,Nf3+,Kf2,Nh2,Qe7,Qf5,Qxa7,Ng4+,Kf3,h5,Qd4,Nf6,d6,Qg4+,Kf2,Qd7,Qxf6,Qxe8,Qe7,Qb8,d7,Qb2+,Kf3,Qc3+,Ke4', 'Qe1+,Kd5,Qxe7', 'https://lichess.org/training/EW43f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ew46l', 'Rapid', 'Luke0217', 1855, 'jazevo', 1787, 'e4,c5,Bc4,e6,c3,d5,exd5,exd5,Bb3,Nf6,d4,cxd4,cxd4,h6,Nf3,Be6,Be3,Bb4+,Nc3,Bxc3+,bxc3,O-O,O-O,Qa5,Bd2,Qb5,Ne5,Nbd7,Rc1,Nxe5,dxe5,Nd7,f4,f6,Qe1,Bf7,e6,Qb6+,Kh1,Qxe6,Qxe6,Bxe6,f5,Bf7,Rcd1,Nc5,Be3,Nxb3,axb3,Rfe8,Bd4,b5,b4,a5,Ra1,axb4,Rxa8,Rxa8,cxb4,Ra4,Bc5,Ra2,Rd1,Re2,Rc1,Re5,Bd4,Rxf5,Rc5,Rf1+,Bg1,Rd1,Rxb5,Kh7,h3,g5,Kh2,Kg6,Rb6,d4,Rd6,d3,b5,Be8,b6,Ba4', 'b7,Rb1,Bb6', 'https://lichess.org/training/ew46l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eW64A', 'Rapid', 'Raspa181', 1833, 'Papa___Bear', 1857, 'c4,Nf6,Nc3,e5,a3,Nc6,g3,d5,cxd5,Nxd5,Bg2,Be6,Ne4,f5,Nc3,Na5,Nh3,Nxc3,bxc3,Bb3,O-O,Bxd1,Rxd1,Nb3,Rb1,Nxc1,Rbxc1,Rb8,d4,e4,f3,Bxa3,Rb1,O-O,fxe4,f4,Nxf4,Rf6,e5,Rh6,Rb3,Be7,Ra1,Bg5,Nd5,c6,Nb4,a5,Nd3,Be3+,Kh1,Qg5,Ne1,Qh5,Nf3,Rf8,h3,Bf2,Rxb7,Bxg3,Rxa5,Qg6,Raa7,Qc2,Rxg7+,Kh8,Rxg3,Qxe2,Ng5,Qe1+,Kh2,Rg6,Bxc6,Rf2+,Bg2,Qe2,Ra8+,Kg7,Ra7+,Kh6', 'Rxh7#', 'https://lichess.org/training/eW64A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ewAf9', 'Rapid', 'seguin19', 1781, 'Fleas', 1866, 'e4,c5,c3,e5,d4,exd4,cxd4,cxd4,Nf3,Nc6,Bb5,Qa5+,Bd2,Qxb5,Na3,Qxb2,Nc4,Qb5,Rc1,d5,exd5,Qxd5,O-O,Bg4,Bf4,Bxf3,gxf3,Nf6,Qb3,Be7,Qxb7,O-O,Kg2,Nh5,Bg3,Nxg3,fxg3,Rab8,Qc7,Rfc8,Qf4,Bg5,Qg4,Bxc1,Rxc1,Ne5,Nxe5,Rxc1,Qf4,Rb2+,Kh3,Qd6', 'Qxf7+,Kh8,Qe8+,Qf8,Qxf8#', 'https://lichess.org/training/ewAf9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eWAPy', 'Blitz', 'eletrontech', 1590, 'MatheusCardoso', 1575, 'e4,c5,Nf3,d6,c3,Nf6,Be2,e6,O-O,Be7,d4,cxd4,cxd4,Nxe4,d5,O-O,dxe6,fxe6,Bc4,d5,Bd3,b6,Ne5,Bd6,Qh5,Qf6,f3,Bxe5,fxe4,Qxf1+,Bxf1', 'Bd4+,Be3,Bxe3+,Kh1,Rxf1#', 'https://lichess.org/training/eWAPy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ewaSk', 'Rapid', 'ubriacone', 1683, 'TUNAHAN28', 1654, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,Nf3,Bf5,g3,e6,Bg2,Nc6,b3,Nf6,Bb2,Bc5,O-O,O-O,Nb5,a6,Nbd4,Nxd4,Nxd4,Bxd4,Bxd4,Qxd4,Bxb7,Ra7,Bf3,Bh3,e3,Qd3,Be2,Qd5,Bf3,Qf5,Bg2,Ne4,Bxe4,Qxe4,f3,Qd3,Rf2,Rd8,g4,h5,gxh5,Bf5,e4,Bh7,Rg2,f5,h6,c5,Kh1,fxe4,Qg1,Rdd7,Qxc5,exf3,Rg3,Be4,h7+,Kh8,Qf8+,Kxh7,Rh3+,Kg6,Rg3+,Kh7', 'Rh3+,Kg6,Rg1#', 'https://lichess.org/training/ewaSk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EWfql', 'Rapid', 'chrisdon', 1853, 'ab1363', 1754, 'e4,e5,Nf3,d6,Bc4,Nf6,d4,exd4,Nxd4,Bg4,f3,Bh5,Bg5,Be7,Nf5,Nbd7,Nxe7,Qxe7,O-O,h6,Bh4,Qe5,Nc3', 'Qc5+,Bf2,Qxc4', 'https://lichess.org/training/EWfql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ewG0i', 'Rapid', 'Phanzel34', 2171, 'Pioneczkowy', 2242, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bb5+,Nbd7,O-O,Be7,f4,O-O,Be3,a6,Bc4,b5,Bxe6,fxe6,Nxe6,Qa5,Nxf8,Bxf8,a3,Bb7,Qd3,Re8,Nd5,Nxe4,b4,Qd8,Rae1,Ndf6,Nxf6+,Nxf6,Bd4,Ne4,c3,Bd5,Qf3,Qd7,Qh5,Qf7,Qxf7+,Kxf7,f5,Be7,Rf4,Bf6,Bxf6,gxf6,Rc1,Rc8,Rf3,Nd2,Rd3,Nb3,Rcd1,Be4,Rxd6,Bxf5,Rxa6,Rxc3,Rf1,Be4,Rfxf6+,Kg7,Rfe6,Rc1+,Kf2,Rc2+,Ke3,Bxg2,Ra7+,Kf8,Rb6,Rc8,Rxb5,Bc6,Rh5,Re8+,Kf2,Nd4,Rhxh7,Re2+,Kf1', 'Bg2+,Kg1,Nf3#', 'https://lichess.org/training/ewG0i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EwJ2R', 'Blitz', 'Mtt7', 1593, 'Flying_Camel', 1579, 'd4,e6,e4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,d5,Bc5,f3,e5,c3,Bd7,b4,Bb6,Nh3,O-O,Bg5,Qg6,Bd3,Qh5,Qe2,Bxh3,gxh3,Qxh3,Qxe5,Qxf3,Kd2,Qf2+,Be2,Nd7,Qe7,Nf6,Bxf6,Rae8,Qd7,Qxe2+,Kc1,Qe3+,Kb2,Qf2+,Kb3,Qxf6,Rhf1,Qg6,Rfe1,Rxe1,Rxe1,h6,c4,Qd3+,Ka4,Qc2+,Kb5,Qf2,Re7,a6+,Ka4,Qc2+,Ka3,Qc3+,Ka4,Qxc4,Re8,Qc2+,Ka3,a5,Rxf8+,Kh7,Rxf7', 'Qc3+,Ka4,Qxb4#', 'https://lichess.org/training/EwJ2R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EwJCU', 'Rapid', 'IG0R71', 1926, 'beyondrationalrush', 1856, 'e4,e6,d4,c6,Nf3,d5,e5,c5,c3,Nc6,a3,Qb6,b4,cxd4,cxd4,a6,Be3,Bd7,Bd3,Nh6,Nbd2,Ng4,Nb3,Nxe3,fxe3,Be7,Qe2,O-O,h4,h6,Bb1,Nxb4,axb4,Bxb4+,Nbd2,Bc3,Qd3,Bxd2+,Nxd2,g6,h5,f5,exf6,Rxf6,hxg6,Qb2,Ra2', 'Qc1+,Ke2,Qxh1', 'https://lichess.org/training/EwJCU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EWlDh', 'Rapid', 'KabyLake', 1683, 'Oleg5555', 1725, 'e4,e5,d4,exd4,Bc4,c5,c3,dxc3,Nf3,d6,Nxc3,Be6,Bxe6,fxe6,Ng5,Qd7,Qg4,Ke7,Bf4,Nf6,Qg3,h6,Nf3,Nc6,O-O-O,e5,Be3,Qe6,Nd5+,Kd7,Bxc5,Nxe4,Qh4,Nxc5,Rhe1,Be7,Qc4,Kc8,b4,Na4', 'Nb6+,axb6,Qxe6+', 'https://lichess.org/training/EWlDh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ewlGC', 'Blitz', 'dyba', 1825, 'Koenigbube', 1758, 'e4,d5,exd5,Qxd5,Nc3,Qd6,f4,Bf5,Nf3,Nf6,d4,e6,Bd3,Bg4,O-O,Bxf3,Qxf3,Qxd4+,Be3,Qb4,a3,Qxb2,Rac1,Qxc3,Rb1,Bc5,Qxb7,Bxe3+,Kh1,Qc6', 'Bb5,O-O,Bxc6,Nxc6,Qxc6', 'https://lichess.org/training/ewlGC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EWlXo', 'Rapid', 'Naamafantti', 2135, 'szma', 1967, 'e4,c5,Nc3,g6,f4,d6,Nf3,Nc6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,d3,Bg7,Qe1,e6,h3,b5,g4,b4,Ne2,Ne7,Ng3,Qb6,Kh2,h5,g5,a5,Nh4,a4,Rb1,O-O-O,a3,b3,cxb3,Qxb3,Qe2,Bb5,Rd1,Nc6,Be3,Nd4,Bxd4,Bxd4,Nf3,Bg7,Qd2,c4,Kg2,Rd7,d4,h4,Ne2,Bc6,d5,exd5,exd5,Bb7,Ned4,Qb6,Qb4,Qxb4,axb4,Bxd5,Ra1,Bxd4,Rxd4,Bc6,Rxc4,Rc7,Rac1,Kb7,Kf2,Rhc8,Nxh4,Be4,R4c3,Kb6,Nf3,Bxf3', 'Rxc7,Rxc7,Rxc7', 'https://lichess.org/training/EWlXo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ewmVO', 'Classical', 'cyrovespa', 1607, 'Nodir01', 1633, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,Nc3,a6,Nd5,Nxd5,Bxd5,f6,Bxb7,Ra7,Bd5,c6,Bb3,Rd7,Ba4,d5,exd5,Rxd5,d3', 'Qa5+,c3,Qxa4', 'https://lichess.org/training/ewmVO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eWnyh', 'Rapid', 'ivangrad', 1787, 'Badcop899', 1801, 'd4,d5,c3,g6,Bf4,Bg7,Nf3,Nd7,h3,b6,Nbd2,Ngf6,e3,Bb7,Ne5,Nxe5,dxe5,Nd7,Nf3,e6,Bb5,a6,Bxd7+,Qxd7,Qb3,b5,a4,c5,axb5,axb5,Rxa8+,Bxa8,Qa3,Qc8,Bg5,h6,Bh4,g5,Bg3,O-O,O-O,Qb8,Qxc5,Rc8,Qb4,Rc4,Qa5', 'Ra4,Ra1,Rxa5', 'https://lichess.org/training/eWnyh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EwOXK', 'Blitz', 'iamreallyweak', 1853, 'treinodeaberturas', 1881, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be7,Be3,O-O,Qd2,b5,O-O-O,Bb7,Nd5,Bxd5,exd5,Qc7,Bd3,Nbd7,Be4,a5,Kb1,a4,Nc1,Rfc8,Ne2,Nc5,Bxc5,Qxc5,Nc3,b4,Ne2,b3,cxb3,axb3,a3,Nxe4,fxe4,Qc2+,Ka1,Rxa3+,bxa3', 'b2+,Ka2,b1=Q#', 'https://lichess.org/training/EwOXK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EwPMc', 'Rapid', 'josemanuel6363', 1877, 'Da1e', 2086, 'e4,c6,f4,d5,e5,Bf5,d3,h6,g4,Bh7,f5,e6,Qf3,exf5,gxf5,Ne7,Bh3,Nd7,d4,Qb6,c3,O-O-O,Nd2,g5,f6,Ng6,Ne2,Nh4,Qf2,c5,O-O,Bd3,Nb3,cxd4,cxd4,Kb8,Bd2,Bb4,Bc3,Ng6,Rfd1,Bc2,Rd2,Bxc3,Rxc2,Bb4,Rac1,Qb5,a3,Bd6,Bxd7,Qxb3,Bf5,Nxe5,dxe5,Bxe5,Nc3,d4,Ne4,d3,Rd2,Bf4,Rc3,Qb5,Rc5,Qa6,Rd1,Rhe8,Nc3', 'Be3,Qxe3,Rxe3', 'https://lichess.org/training/EwPMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ewr2a', 'Rapid', 'AVinB', 1897, 'Prai', 1857, 'd4,Nf6,c4,b6,Nf3,Bb7,e3,e6,Be2,Be7,O-O,O-O,a3,a5,Nc3,c5,dxc5,Bxc5,Nb5,d5,cxd5,exd5,Nfd4,Nc6,b3,Nxd4,Nxd4,Ne4,Bb2,Qg5,b4,axb4,axb4,Rxa1,Qxa1,Bxb4,Qa7,Qe7,Qxb6,Bc5,Qb5,Nd2,Rd1,Bxd4,Bxd4,Ne4,f3,Nf6,Bxf6,gxf6,Qb6,Kh8,Kf2,Rg8,Bb5,Rc8,Rd2,Rc1,Qa7,Rb1,Ba6,Qb4,Re2,Bxa6,Qxa6', 'Qh4+,g3,Qxh2#', 'https://lichess.org/training/Ewr2a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eWrnZ', 'Blitz', 'Andromeda-13', 2168, 'aboulfazlchess', 2313, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Nf3,Nc6,Bc4,Nb6,Bb3,d5,exd6,Qxd6,O-O,Bf5,Na3,a6,Bxf7+,Kxf7,Qb3+,Nd5,Nc4,Qc5,Nb6,Qxb6,Qxd5+,e6,Qd7+,Be7,Ng5+,Kf6,Re1,Rad8', 'Rxe6+,Bxe6,Qxe6#', 'https://lichess.org/training/eWrnZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EWrvf', 'Blitz', 'ak61', 2541, 'IM Prettyfly', 2521, 'e4,c5,Nf3,d6,Nc3,Nc6,d4,cxd4,Nxd4,Nf6,Bg5,e6,Qd2,a6,O-O-O,h6,Be3,Be7,f3,Nxd4,Bxd4,b5,Kb1,Qa5,Qf2,b4,Ne2,Rb8,Nc1,e5,Ba7,Rb7,Nb3,Qc7,Be3,Be6,g4,a5,h4,a4,Nc1,d5,g5,hxg5,Bxg5,dxe4,Bh3,Bxh3,Rxh3,a3,Bxf6,Bxf6,fxe4,axb2,Nb3,O-O,h5,Rd8,Rg1,Rb6,h6,g6,h7+,Kh8,Rf3,Rdd6,Rf1,Qe7,Qc5,Qd7,Rxf6,Rxf6', 'Qf8+,Kxh7,Rh1+,Qh3,Rxh3#', 'https://lichess.org/training/EWrvf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ewTfc', 'Blitz', 'El_Precisione', 2549, 'FM Jogirel', 2604, 'c4,Nf6,Nc3,e6,e4,d5,cxd5,exd5,Qb3,dxe4,Bc4,Qd7,d3,exd3,Nf3,Nc6,O-O,Na5,Re1+,Be7,Bxf7+,Kf8,Qe6,Qxe6,Bxe6,Bxe6,Rxe6,Rd8,Bf4,c6,Rae1,Re8,Rxe7,Rxe7,Bd6,Ng8,Nd4,Kf7,Bxe7,Nxe7,Rd1,Rd8,Nf3,Nc4,b3,Nb6,Rxd3,Rxd3,Ne5+,Ke6,Nxd3,Kd6,Kf1,Nbd5,Ne4+,Kc7,Ke2,Nf5,f4,Nd4+,Kd2,b6,g4,c5,f5,Nf3+,Ke2,Nxh2,g5,Ng4,Kf3,h5,gxh6,Nxh6,Ng3,Kd6,Ke4,Nf6+,Kf4,Nf7,Nf2,Kd5,Nfe4,Nxe4,Nxe4,Nd6,Ng5,b5,Ne6,g6,fxg6', 'Kxe6,g7,Kf7', 'https://lichess.org/training/ewTfc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ewVLk', 'Rapid', 'red-fish', 1967, 'mazeedkhan', 1836, 'e4,e6,c4,g6,Nc3,Bg7,Nf3,c5,d4,cxd4,Nxd4,Nc6,Ndb5,a6,Nd6+,Kf8,c5,Nge7,Bd3,Bd4,Qf3,Ne5,Bh6+,Kg8,Qf6', 'Nxd3+,Kd2,Bxf6', 'https://lichess.org/training/ewVLk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eww36', 'Rapid', 'Aguerrero16', 1767, 'YefimG', 2011, 'e4,e5,Nf3,f5,Nxe5,Qe7,Nc4,fxe4,Ne3,Nf6,Bc4,c6,O-O,d5,Be2,Qe5,d4,exd3,Bxd3,Bd6,f4,Qd4', 'Bg6+,hxg6,Qxd4', 'https://lichess.org/training/Eww36');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ewweY', 'Rapid', 'ProfPoisson', 1803, 'LOL_M1CRO', 1913, 'e4,c5,Nf3,e6,Bb5,a6,Bc4,b5,Be2,Bb7,d3,d5,exd5,exd5,O-O,Nf6,Bg5,Be7,c4,d4,a4,b4,a5,h6,Bf4,Nc6,Ne5,O-O,Nxc6,Bxc6,Bf3,Rc8,Bxc6,Rxc6,Qf3,Qd7,h3,Bd6,Bxd6,Qxd6,Re1,Rcc8,Nd2,Rfe8,Ne4,Nxe4,Rxe4,Qc7,Rae1,Rxe4,Qxe4,Qxa5,Qb7,Rf8,Qc6,b3,Re8,Rxe8,Qxe8+,Kh7,Qxf7,Qe1+,Kh2,Qe5+,Kg1,Qe1+,Kh2,Qe5+,Kg1,Qf6,Qd5,Qb6,Qf5+,Qg6,Qxc5,Qxd3,Qb4', 'Qb1+,Kh2,Qxb2', 'https://lichess.org/training/ewweY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eWwFB', 'Blitz', 'FM FranklinAPalomo', 2572, 'Jenlen3001', 2625, 'Nf3,d5,c4,d4,g3,Nf6,d3,c5,Bg2,Nc6,O-O,g6,a3,a5,e3,Bg7,exd4,cxd4,Bg5,O-O,Nbd2,h6,Bxf6,Bxf6,Re1,e5,b4,axb4,axb4,Rxa1,Qxa1,Nxb4,Qb1,Nc6,Qb5,Qc7,Ne4,Bg7,Rb1,Bf5,Nfd2,Rb8,Nc5,Bf8,Bxc6,Bxc5,Qxc5,bxc6,Rxb8+,Qxb8,Qa3,c5,Kg2,Qb4,Qa8+,Kg7,Nf3,Bxd3,Nxe5,Bxc4,Nd7,Bf1+,Kxf1', 'Qb5+,Kg2,Qxd7', 'https://lichess.org/training/eWwFB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EWxRw', 'Blitz', 'lex_Premium', 1563, 'Maureke', 1579, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,e6,Nf3,a6,d4,Nc6,O-O,Bd6,Bg5,f6,Bh4,Nge7,Nbd2,Nf5,Bg3,Nxg3,fxg3,O-O,c3,f5,Bc2,f4,gxf4,Rxf4,Qe1,Qf6,Ne5,Rxf1+,Nxf1,Qh6,Ng3,Nxe5,dxe5,Bc5+,Kh1,Bd7,Qe2,Rf8,Rf1,Bb5,Rxf8+,Kxf8,Qf3+,Kg8,b4,Qc1+,Bd1,Bb6,h3,Bc7,Qg4,Bxe5,Qxe6+,Kf8,Qf5+,Bf6,Qf3,Ba4,Kh2,Bxd1,Qxd5,b5,Qd6+,Be7,Qxa6,Qxc3,Qa8+,Kf7,Qd5+,Kg6,Qxd1,Qxb4', 'Qh5+,Kf6,Qf5#', 'https://lichess.org/training/EWxRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EwXTL', 'Rapid', 'papuas2500', 1649, 'Melser0810', 1622, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,O-O,h6,Re1+,Be7,Nxf7,Kxf7,Qh5+,g6,Bxd5+,Kg7,Qf3,Bf5,Bxc6,bxc6,Bf4,Bf6,Be5,Rb8,Qxc6,Rxb2', 'Bxf6+,Qxf6,Qxc7+', 'https://lichess.org/training/EwXTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eWYeA', 'Rapid', 'lev2010', 1738, 'LemojSazsarb', 1633, 'e4,e6,Bc4,c5,d3,a6,Nc3,b5,Bb3,Nc6,a4,Na5,Ba2,b4,Nce2,Bb7,Nf3,f5,exf5,Bxf3,gxf3,exf5,Qd2,Nf6,Qg5,h6,Qg6+,Ke7,Qf7+,Kd6,Bf4+,Kc6,d4,d5,dxc5,Bxc5,O-O-O,Re8,Bxd5+,Nxd5,Rxd5,Qxd5', 'Qc7#', 'https://lichess.org/training/eWYeA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eWzUP', 'Classical', 'zaimelezi', 1889, 'm_tareq', 1935, 'd4,d5,b3,Bf5,e3,e6,c4,Nf6,c5,b6,b4,a5,Qa4+,Qd7,c6,Bxb4+,Bd2,Qd6,a3,Bxd2+,Nxd2,O-O,Bb5,Ne4,Ngf3,Nc3,Qb3,Nxb5,Qxb5,Qxc6,a4,Qxb5,axb5,f6,O-O,Nd7,Rfc1,Rfc8,Nh4,Kf7,Nxf5,exf5,f3,Nb8,e4,fxe4,fxe4,dxe4,Nxe4,Nd7,Rc4,Nf8,g4,Ne6,d5,Ng5,Ng3,Nf3+,Kg2,Ne5,Rd4,Rd8,Rc1,Rac8,Ne4,Nxg4,d6,Ne5,Rxc7+,Ke6,Re7+,Kf5,Rxg7,Rc4', 'Ng3+,Ke6,Re7#', 'https://lichess.org/training/eWzUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EX0fM', 'Rapid', 'hotspring', 1782, 'NikPol', 1905, 'd4,g6,Bf4,Bg7,e3,d6,c4,c5,Nc3,cxd4,exd4,Nf6,Nf3,O-O,Be2,Nh5,Be3,Nc6,O-O,a6,Qd2,Nf6,Bh6,Bf5,Bxg7,Kxg7,d5,Nb8,Nd4,Bd7,b4,e6,dxe6,Bxe6,Nxe6+,fxe6,Rfe1,Nbd7,Qxd6,Re8,Bf3,Rb8,Rxe6,Rxe6,Qxe6,Qf8,Re1', 'Re8,Qxe8,Nxe8', 'https://lichess.org/training/EX0fM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eX2It', 'Rapid', 'Emperator_ali', 1634, 'Sorokin2', 1613, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Nf3,Nc6,O-O,Bg4,Nbd2,Na5,b3,Nxc4,dxc4,Nf6,Qe1,Bd6,Nxe5,O-O,Nxg4,Nxg4,Qe4,Qc8,h3,Nf6,Qf3,c6,Bb2,Bb4,Ne4,Nxe4,Qxe4,Qe8,Qd4,f6,a3,Ba5,b4,Bc7,b5', 'Be5,Qc5,Bxb2', 'https://lichess.org/training/eX2It');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ex35J', 'Rapid', 'vgoel', 1657, 'AmierKhatab', 1656, 'd4,d5,c4,dxc4,e3,Qd6,Nc3,Nf6,Bxc4,Qc6', 'Bb5,Qxb5,Nxb5', 'https://lichess.org/training/Ex35J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ex4bx', 'Blitz', 'MindOfWael', 1601, 'lezginec', 1574, 'e3,e5,f3,d5,d4,exd4,Qxd4,Nc6,Qa4,Nf6,Nc3,Bd7,e4,dxe4,Nxe4,Ne5,Nxf6+,gxf6,Qe4,Be7,Bf4,Bc6,Qe3,Qd6,Be2,O-O-O,Bxe5,fxe5,Bc4,Qb4+,Kf2,Qxb2,Bxf7,Qxa1,Qxa7,Qc3', 'Be6+,Rd7,Qa8#', 'https://lichess.org/training/ex4bx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EX4Tw', 'Blitz', 'MakiseK', 1940, 'qiqus', 1901, 'd4,Nf6,c4,g6,Bf4,Bg7,e3,d6,Nf3,O-O,Be2,c5,Nc3,cxd4,exd4,a5,Rc1,Nh5,Be3,Nc6,O-O,e5,dxe5,dxe5,Nd5,e4,Nd4,Nxd4,Bxd4,Nf6,Nb6,Rb8,Nd5,Nxd5,Bxg7,Kxg7,cxd5,f5,Qd4+,Kg8,Qc5,b6,Qd4,Bb7,Bc4,Qd6,a3,Rbd8,Rfd1,Rfe8,Ba2,e3,fxe3,Re4,Qd3,Rde8,Re1,R8e5,Rcd1,Kg7,Kf2,Qc5,d6,f4,d7,fxe3+,Kf1,Rf4+,Kg1,e2+,Kh1,Rf1+,Rxf1,exf1=Q+,Rxf1,Qc6,Rg1', 'Qxg2+,Rxg2,Re1+,Qf1,Rxf1#', 'https://lichess.org/training/EX4Tw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eX8s6', 'Blitz', 'FM abrito99', 2470, 'estabaganao', 2370, 'e4,e6,Nf3,d5,Nc3,Nf6,e5,Nfd7,d4,c5,dxc5,Nc6,Bf4,Nxc5,Bd3,Be7,h4,h6,h5,Nxd3+,cxd3,Qb6,Qe2,Bd7,Kf1,Rc8,Rh3,Nd4,Nxd4,Qxd4,Qg4,Bg5,Ne2,Qxb2,Re1,f5,Qg3,Bxf4,Qg6+,Kf8,Nxf4,Qb6,Kg1,Rc2,Rhe3,d4,Rg3,Rg8,Nd5,exd5', 'e6,Bxe6,Rxe6,Qxe6,Qxe6,Rc1+,Kh2', 'https://lichess.org/training/eX8s6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EX90w', 'Blitz', 'ReyIII', 1961, 'almaster64', 2135, 'e4,e5,c3,Nf6,d4,exd4,e5,Ne4,cxd4,d6,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/EX90w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exAix', 'Rapid', 'latvalatvian', 1676, 'RUBzik12', 1775, 'g3,d5,Bg2,e5,b3,c5,Bb2,Nc6,e3,Nf6,Ne2,Be6,O-O,Bd6,d3,Qd7,Nd2,Bh3,a3,h5,f4,h4,gxh4,Rxh4,Nf3,Rh8,fxe5,Nxe5,Nxe5,Bxe5,Bxe5,Bxg2,Kxg2,Qh3+,Kh1,Ng4,Ng1', 'Qxh2+,Bxh2,Rxh2#', 'https://lichess.org/training/exAix');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exaIY', 'Blitz', 'stuxnet', 1775, 'DomAugustus', 1559, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Nbd7,Bg5,O-O,Nd2,e5,d5,c5,a4,Qb6,Qc2,h6,Bh4,g5,Bg3,Ng4,h4,Ndf6,hxg5,hxg5,Be2,Bd7,O-O-O,a5,Nf3,Qd8,Kb1,Ne8,Qd3,Nc7,Rh5,Na6,Rdh1,Nb4,Qd1,f6,Nb5,b6,Nxg5,fxg5,Bxg4,Bxg4,Qxg4,Bf6,Rh7,Qe8,Nc7,Qxa4', 'Qe6+,Rf7,Qxf7#', 'https://lichess.org/training/exaIY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ExbdR', 'Rapid', 'Alarch', 1886, 'Jimbo78700', 1610, 'd4,d5,Nf3,Nc6,Bg5,f6,Bh4,g5,Bg3,e5,dxe5,fxe5,Nxe5,Nxe5,Bxe5,Qe7,Bxh8,Bg7,Bxg7,Qxg7,c3,Nf6,e3,Bg4,Be2,Bf5,Nd2,O-O-O,h3,d4,exd4,Re8,O-O,g4,hxg4,Bxg4,Bxg4+,Nxg4,Nf3,Qh6,Qd3,Rf8,Rae1,Rxf3,Re8+,Kd7,Qb5+,Kd6,Rfe1', 'Qh2+,Kf1,Rxf2#', 'https://lichess.org/training/ExbdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eXCfM', 'Blitz', 'nickpham', 1763, 'RI_Rashed', 1797, 'e4,e5,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Nf3,Nc6,Bb5,f6,Bxc6,bxc6,Nc3,Ba6,Bd2,Bd6,O-O-O,Ne7,Nh4,g6,Bh6,Ke8,Bg7,Kf7,Bxh8,Rxh8,Kb1,Rb8,Nf3,Ke6,Nd2,Ba3,Nb3,Bd6,h3,f5,exf5+,gxf5,h4,h5,Rh3,Nd5,Na4,Nf4,Rh2,Be2,Rc1,Nd5,Nac5+,Ke7,Nd3,e4,Nf4,Nxf4,g3,Nd5,Nd4,Be5,Nxc6+,Kd6,Nxb8,f4,gxf4,Bxf4,Rg2,Bg4,Rcg1,Nb6,Re1,Kd5,c3,Nc4,Kc2,Bf5,Na6,e3+,Kb3,Nd2+,Kb4,Bd6+,Ka4', 'Bd7+,Ka5,Nc4#', 'https://lichess.org/training/eXCfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('excnn', 'Blitz', 'CM Schachmalanders', 2425, 'PrimumSemper', 2491, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,e5,Bxc6,bxc6,d4,cxd4,cxd4,exd4,e5,Ne7,Bg5,h6,Bf6,O-O,Bxg7,Kxg7,Qxd4,Nf5,Qc3,Ba6,Re1,Kh7,Nbd2,Nh4,Qd4,Nf5,Qc3,Qb6,Ne4,Rfb8,Nf6+,Kg7,b3,Qb4,Qb2,Qe7,Rad1,Rd8,Ne4,Kh7,Nf6+,Kg7,Ne4,Kh7,Qc3,Ng7,Nf6+,Kh8,Qe3,Nf5,Qf4,Qf8,Nxd7,Qg7,Nf6,Bd3,Nd4,Rxd4,Qf3,Rad8,h3,Ne7,e6,Nf5', 'e7,Nxe7,Rxe7', 'https://lichess.org/training/excnn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EXCOV', 'Rapid', 'lanzero', 1900, 'militarchess', 1935, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,e5,Nf5,Nf6,Bg5,d6,c3,Bxf5,exf5,Be7,Nd2,O-O,Bxf6,Bxf6,Ne4,Be7,Qg4,Kh8,O-O-O,f6,Be6,b5,Nc5,Qa5,a3,Rfd8,Nb7,Qb6,Nxd8,Rxd8,Rd3,a5,Rg3,Bf8,Qh5,Qxf2,Qf7,Ne7,Rh3,Qxg2', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/EXCOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ExcVw', 'Rapid', 'Quaint1964', 1817, 'validarguments', 1896, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,Nf6,e3,e6,cxd5,exd5,a3,Bd6,Bd3,Bg6,Qc2,O-O,O-O,Nbd7,Re1,Re8,Bd2,Qc7,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bxg6,hxg6,Rxe8+,Rxe8,Re1,Rxe1+,Bxe1,c5,dxc5,Bxc5,Kh1,Ng4,Qe2,Qb6,Kg1,Qd6,h3,Nh6,Bc3,Nf5,Qe5,Qd1+,Ne1,b6,g4,Bd6', 'Qe8+,Bf8,gxf5', 'https://lichess.org/training/ExcVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exD5E', 'Classical', 'pongalopongal', 1635, 'pavandhangar', 1630, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,h6,O-O,Bb4,d3,Bxc3,bxc3,d6,d4,Bg4,dxe5,Nxe5,Be2,Nxe4', 'Nxe5,Bxe2,Qxe2', 'https://lichess.org/training/exD5E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exEMT', 'Blitz', 'farid_dash', 1761, 'biznesmaan', 1813, 'e3,d5,Bd3,e5,b3,e4,Be2,c5,Bb2,Nf6,Bxf6,Qxf6,Nc3,d4,Nxe4,Qg6,Bd3,Qxg2,Qf3,Qxf3,Nxf3,b6,O-O-O,Bb7,Ne5,f5,Ng5,Bxh1,Rxh1,Be7,Ngf7,Rf8', 'Bb5+,Nd7,Bxd7#', 'https://lichess.org/training/exEMT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exFZh', 'Rapid', 'Rishabharsd', 1775, 'Iqbal_Momin', 1994, 'b3,e6,Bb2,c6,e3,d5,Be2,Nf6,Nf3,Be7,Nc3,O-O,h4,Ne4,Nxe4,dxe4,Nd4,Bxh4,c4,Bf6,Qc2,Bxd4,Bxd4,f5,Bb2,Nd7,Qc3,Nf6,O-O-O,Qc7,Kb1,b6,d4,Ba6,f3,Rad8,g4,fxg4,fxg4,Nd5,Qc2,Nxe3,Qxe4,Nf5,gxf5,exf5,Qh4,g6,Qh6,Rde8,Bd3,b5,Rdg1,Qf7,Qf4,bxc4,Bxc4,Bxc4,bxc4,Qxc4,Qc7,Rf7,Qh2,Rb8,Ka1,Rfb7,Rxg6+,hxg6,Qh8+,Kf7,Rh7+,Ke6,d5+,Kxd5', 'Qe5#', 'https://lichess.org/training/exFZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EXHEd', 'Rapid', 'koreelev', 1988, 'Michal58', 1825, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,Bb6,dxe5,Nxe5,Nxe5,dxe5,Bxf7+,Ke7,Bg5+,Nf6,Qh5,g6,Bxg6,hxg6,Qxg6,Qf8,O-O,Rg8', 'Bxf6+,Qxf6,Qxg8', 'https://lichess.org/training/EXHEd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eXi0a', 'Classical', 'feechess', 1867, 'Karll308', 1823, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,d6,Nf3,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Ne5,Qe2,h6,Ne6,Qa5,O-O,Nf6,h3,g5,Nb5,Rc8,Bd2,Qb6,a4,a6,a5', 'Qxb5,Qxb5+,axb5', 'https://lichess.org/training/eXi0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eXi24', 'Blitz', 'Igor76', 2059, 'TheDUTCHMAN3', 1965, 'e4,c5,f4,g6,Nf3,Bg7,c4,d6,Nc3,Nf6,d3,O-O,Be2,Nc6,O-O,a6,Rb1,Bd7,Bd2,Rb8,h3,b5,b3,Nh5,Kh2,bxc4,dxc4,Nf6,g4,Qc8,Nd5,Nxd5,cxd5,Nd4,Nxd4,Bxd4,f5,Be5+,Kh1,Qb7,Bh6,Bg7,Bxg7,Kxg7,g5,Qb4,f6+,exf6,gxf6+,Kh8,Qd3,a5,Qe3,Rbe8,Bc4,Bb5,Qh6,Rg8,Bxb5,Qxb5,Rf4,Qd3', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/eXi24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exl5v', 'Blitz', 'R_Daneel', 2158, 'BK_87', 2117, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Qb6,Ndf3,Nc6,g3,cxd4,cxd4,Bb4+,Kf2,O-O,Kg2,f6,Bd3,fxe5,fxe5,Kh8,a3,Be7,Bb1,Ndxe5,dxe5,Nxe5,Qd4,Nxf3,Qxb6,Ne1+,Kh3,e5+,g4,axb6,Bd2,h5,Bxe1,Bxg4+,Kg2,e4,h3,Bd7,Ne2,Bd6,Bc3,Rf3,Ba2,Raf8,Bd4,Bc5,Bxd5,Bxd4,Nxd4,Rf2+,Kg3,g5,Be6,h4+,Kg4,Bxe6+,Nxe6,R8f3,Rhg1,Kh7,Rac1,Kg6,Nxg5', 'Rf4#', 'https://lichess.org/training/exl5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EXLHH', 'Blitz', 'Amrya', 1603, 'rentgen56', 1801, 'd4,d6,e4,Nf6,Bc4,Nc6,Nc3,e5,d5,Nd4,Be3,c5,a3,a6,b4,b5,Be2,Be7,f4,Nxe2,Qxe2,Bg4,Nf3,O-O,bxc5,exf4,Bxf4,dxc5,h3,Bxf3,Qxf3,Re8,e5,b4,exf6,Bxf6+,Kf2,Bxc3,axb4,cxb4,Rhd1,Qf6,d6,Bxa1,d7,Bd4+,Kf1,Red8,Re1,Rxd7', 'Qxa8+,Rd8,Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/EXLHH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EXLVf', 'Blitz', 'imc', 1712, 'tmano', 1715, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kxf2,Nxe4+,Kg1,Qe7,Nxh8,Qc5+,d4,Qxc4,Qh5+,g6,Qh6', 'Qxd4+,Qe3,Qd1+,Qe1,Qxe1#', 'https://lichess.org/training/EXLVf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eXmfI', 'Rapid', 'Girivaishnav', 1633, 'Ableskewer', 1633, 'd4,d5,Bf4,Nc6,e3,Nf6,Bd3,Bg4,Nf3,Bxf3,Qxf3,e6,c3,Bd6,Bxd6,Qxd6,Nd2,Nd7,O-O,O-O-O,e4,dxe4,Bxe4,Qe7,Rfe1,Ndb8,Rad1,e5,Bf5+,Nd7,d5,Nb8,Be4,Nc5,Bf5+,Nbd7,Nc4,g6,Bc2,f5,Qe2,e4,f3,b5,Nd2,Nf6,Qxb5,Rxd5,Qe2,Re8,c4,Re5,fxe4,Nfxe4,Nxe4,Nxe4,Qf3,Kb8,Bxe4,Rxe4,Rxe4,Qxe4,Qxe4,Rxe4,b3,Re2,a3,Re3,Rb1,Kb7,Kf2,Rc3,Ke2,f4,Kd2,Re3,g3,g5,gxf4,gxf4,Kc2,Re2+,Kd3,Rxh2,Rf1,Rh3+,Kc2,f3,b4,Rh2+,Kb3,f2,Ka4,h5,c5,Kc6,Ka5,Kb7,Kb5,h4,c6+,Kb8,Ka6,Rg2,b5,h3,Rh1,Rg1', 'Rxh3,Rg8,Rf3,f1=Q,Rxf1', 'https://lichess.org/training/eXmfI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ExNPu', 'Rapid', 'ViktorKul', 2048, 'tedor', 2063, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,f4,Qb6,Qd2,h6,Bh4,e6,O-O-O,Be7,g4,Nxe4,Nxe4,Bxh4,Nxe6,fxe6,Nxd6+,Ke7,Bc4,Bf6,c3,Nc5,g5,hxg5,fxg5,Be5,Nxc8+,Raxc8,Rde1,Qc7,Qe2,Bf4+,Kb1,e5,g6,Rcd8,b4,b5,Bf7,Na4,Qg4,Qxc3,Qe6+,Kf8,Re2,Qxb4+,Ka1,Qc3+,Kb1,Qd3+,Rc2,Qd1+,Rxd1', 'Rxd1+,Rc1,Rxc1#', 'https://lichess.org/training/ExNPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exocU', 'Classical', 'Abraham1996', 1755, 'Byzantycy', 1712, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Nc6,Bb5,e6,Ne5,Bd7,Nxd7,Nxd7,Bf4,Bb4,Qd2,O-O,a3,Ba5,Bxc6,bxc6,O-O,Rb8,b4,Bb6,Na4,Nf6,Nxb6,Rxb6,Rfd1,Rb5,c4,Rf5,g4,Ne4,Qe3,Nc3,Rd3,Ne2+,Qxe2,Rxf4,Rad1,h6,f3,Qf6,Kg2,Rd8,Qe3,e5', 'dxe5,Rxd3,Rxd3', 'https://lichess.org/training/exocU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eXoo1', 'Rapid', 'angimar', 1994, 'EFG001', 1901, 'e4,c5,b4,c4,Bxc4,e6,c3,a6,Bb3,b5,d4,Bb7,Nd2,d5,e5,Ne7,Ngf3,Nf5,O-O,Be7,g3,O-O,h4,Nd7,Re1,Nb6,Nf1,Nc4,Qd3,Rc8,Bc2,g6,N1h2,a5,a3,f6,exf6,Rxf6,Ng4,Rf8,Rxe6,Rc6,Rxc6,Bxc6,Ng5,Bd7,Bf4,Nxh4,Nxh7,Nb2,Qe2,Kxh7,Be5,Bxg4,Qxg4,Nf3+,Kg2,Nxe5,dxe5,Qb6,Qh5+,Kg7,Qxg6+,Qxg6,Bxg6,Kxg6,bxa5,Nd3,f4,Kf5,Rb1,Rg8,Kf3,Rb8,a4,b4,g4+,Ke6,a6,Ra8,cxb4,Bxb4,Rb3,Ne1+,Ke2,Ba5,Re3,Bb6,f5+,Kf7,Rb3,Ba5', 'Rb7+,Kf8,a7,Rxa7,Rxa7', 'https://lichess.org/training/eXoo1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('expMr', 'Rapid', 'kalikov2002', 1647, 'netfarceur', 1608, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,Nc3,a6,a3,Nd4,Nf3,Nxf3+,Qxf3,b5,Ba2,Bb7,b4,Bb6,Bg5,Bd4,Nd5,Bxa1', 'Nxf6+,gxf6,Bxf6,Qxf6,Qxf6', 'https://lichess.org/training/expMr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exQ1C', 'Rapid', 'T42at4', 1768, 'ferrucciolari', 1737, 'e4,c5,f4,e6,Nf3,a6,a4,Nc6,Nc3,Qc7,d4,cxd4,Nxd4,Bb4,Nxc6,bxc6,Qd4,Bxc3+,Qxc3,Nf6,Bd3,Qb6,Bd2,Rb8,O-O-O,d5,exd5,cxd5,h3,Bd7,a5,Qb7,Qa3,Bb5,Bc3,Rc8,g4,Qc6,Rhe1,Bxd3,Rxd3,h6,f5,Qc5,fxe6,Qxa3,exf7+,Kxf7,bxa3,Rhe8,Rde3', 'Rxc3,Rxc3,Rxe1+', 'https://lichess.org/training/exQ1C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EXQB7', 'Rapid', 'Pardeep0009', 1692, 'philologist', 1609, 'e4,e5,d3,Nf6,Nf3,d5,Nxe5,dxe4,Nc3,exd3,Bxd3,Bd6,Nf3,O-O,O-O,Nc6,Bg5,h6,Bxf6,Qxf6,Ne4,Qd8,Qe2,Ne5,Nxe5,Bxe5,Ng3,Bxb2,Qe4,g6,Rad1,Bf5,Nxf5,Qg5,Ne7+,Kh7,Qb4,Bf6,Nd5,c6,Nxf6+,Qxf6,c4,b6,Qb1,Rad8,Qb4,c5,Qe1,Rd4,Qe3,Rfd8,Qh3,Rh4,Qg3,Rdd4,Qc7,Rdg4,g3,Qf3,Bxg6+,Kxg6,Rd6+,Kg7,Rd2,Rxh2,Kxh2,Rg5,Rh1', 'Rh5+,Kg1,Qxh1#', 'https://lichess.org/training/EXQB7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ExQC3', 'Blitz', 'juanpablo1818', 1939, 'algeochamp07', 1918, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Bd7,Nf3,Bc6,Neg5,h6,Nxf7,Kxf7,Ne5+,Ke7,Ng6+,Kd7,Nxh8,Qf6,Bd3,Bxg2,Rg1,Bf3,Qd2,Nc6,Qf4,Nxd4,Qxf6,Nxf6,Be3,Bc5,Ng6,Bh5,Ne5+,Ke7,Rxg7+,Kd6,Nc4+,Kd5,Rxc7,Rg8,Kd2,Nf3+,Kc3,Bxe3,Nxe3+,Kd6,Rxb7,Rc8+,Kb3,Nd4+,Ka4,Be8+,Ka3,Rc6,Nc4+,Kc5,Rb4', 'Ra6+,Na5,Rxa5+,Ra4,Rxa4#', 'https://lichess.org/training/ExQC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Exqor', 'Rapid', 'Isha_subash', 1857, 'Mordada', 1885, 'e4,e5,Nf3,Nc6,Bc4,Qf6,Nc3,Bc5,Nd5,Qd6,d3,Nge7,Be3,Bxe3,fxe3,Nxd5,Bxd5,Ne7,Bb3,Ng6,O-O,O-O,Ng5,Qe7,Nxf7,d6,Nxd6+,Kh8,Nf7+,Kg8,Nxe5+,Kh8,Rxf8+,Nxf8,Nf7+,Kg8,Qf3,Be6,Bxe6,Nxe6,Rf1,Rf8,Nh6+,Kh8,Nf5,Qf6,e5,Qxe5,Qxb7,Rxf5,Qa8+,Nf8', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/Exqor');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eXQZH', 'Classical', 'rinturahman12', 1663, 'Yalguzag-1973-f', 1623, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,d6,h3,Nge7,Nh4,d5,exd5,Nxd5,Qf3,Be6,O-O,Qxh4,Na3,Qf6,Qe2,Nf4,Qe3,Bxc4,Nxc4,O-O-O,d4,exd4,Qxf4,Qxf4,Bxf4,dxc3,bxc3,Bd6,Nxd6+,cxd6,c4,g5,Bg3,f5,f4,g4,h4,Na5,Rac1,Kd7,c5,d5,Rfd1,Kc6,Be1,Nc4,g3,Kxc5,Bf2+,d4,Rc2,Rhe8,Rdc1,Kb4,Rxc4+,Kb5,Bxd4,Re1+,Rxe1,Kxc4,Bxa7,Rd7,Re6,b5,Bb6,Rd1+,Kf2,Rd2+,Ke3,Rxa2,Rxh6,Ra3+,Kd2,b4,Rc6+,Kb5,Rf6,b3,Bd4,Kc4,Bc3', 'Ra2+,Ke3,Kxc3', 'https://lichess.org/training/eXQZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exR8B', 'Rapid', 'Fastnovastar', 1746, 'qwd789', 1711, 'e4,e5,Nf3,d6,h3,h6,d4,exd4,Nxd4,Be7,Nc3,Bf6,Be3,a6,Qd2,Bd7,Be2,Nc6,Bf3,Nge7,Nd5,Nxd5,exd5,Ne5,Be4,Qe7,O-O-O,Nc4,Qd3,b5,Rhe1,O-O,Bf5,Bg5,Bxg5,Qxg5+,Kb1,Bxf5,Nxf5,Qxg2,Rg1,Qxf2,Rxg7+,Kh8,Rdg1,Ne5,Qe4,Rae8,Nxh6,Ng6,Nxf7+,Kxg7', 'Qxg6#', 'https://lichess.org/training/exR8B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exs2U', 'Rapid', 'MichelBogaert', 1712, 'Ejonochek', 1674, 'Nf3,Nf6,d4,d5,c4,e6,Nc3,Be7,Bf4,O-O,e3,Nbd7,Nb5,Bd6,Bxd6,cxd6,Nxd6,dxc4,Nxc4,Nb6,Nce5,Qd6,Bd3,Nfd5,O-O,f6,Nc4,Nxc4,Bxc4,Ne7,Qb3,b5,Bxb5,Rb8,a4,a6,Rfc1,axb5,axb5,Bb7,Ra7,Bxf3,gxf3,Nf5,Rc6', 'Qxc6,bxc6,Rxb3', 'https://lichess.org/training/exs2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ExSr8', 'Rapid', 'aguinaldosurdi', 1897, 'OldMorningsDawn', 1941, 'd4,g6,c4,Nf6,Nc3,Bg7,e4,d6,h3,O-O,Nf3,c5,d5,e6,Bd3,Nbd7,O-O,b6,Be3,Ne5,Nxe5,dxe5,f4,exf4,Bxf4,exd5,exd5,Nh5,Qd2,Re8,Rae1,Nxf4,Qxf4,Bd4+,Kh1,Rxe1', 'Qxf7+,Kh8,Rxe1', 'https://lichess.org/training/ExSr8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exSVR', 'Rapid', 'elpardo', 1955, 'alfanet', 1934, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,h6,Bh4,Nc6,Bd3,Ne4,Bxe7,Nxc3,bxc3,Qxe7,O-O,Na5,c5,Nc6,Qe2,e5,Nd2,e4,Bb5,Qf6,c4,dxc4,Nxe4,Qg6,Ng3,Bg4,Qxc4,h5,Qc3,h4,Bd3,Qg5,Ne4,Qh5,h3,Bf5,Nd2,Be6,Be4,Ne7,Bf3,Qg6,Kh1,Nf5,Bxb7,Rab8,Be4,Qf6,Qd3,Rb2,Nf3,Rfb8,Bxf5,Bxf5,e4,Bd7,Rab1,Bb5,Rxb2,Bxd3,Rxb8+,Kh7,Re1,g5,Rb7,Kg6,Rxc7,Qf4,Rc6+,Kh5,Ne5,Bxe4,Rc7,Qf5,Rxf7', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/exSVR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EXszU', 'Rapid', 'duduasc', 1999, 'Sergei_Vladimirovich', 1996, 'd4,d5,c4,dxc4,e4,e6,Bxc4,h6,Nc3,Be7,Nf3,Nf6,Bf4,a6,d5,exd5,exd5,O-O,O-O,Re8,Ne5,Bd6,Re1,Bf5,Bd3,Bxd3,Qxd3,Nbd7,Nxd7,Bxf4,Rxe8+,Nxe8,Nc5,Rb8,Re1,Nd6,g3,Bg5,N5e4,Nxe4,Qxe4,Qd6,Kg2,Rd8,a4,Bd2,Rd1,Bg5,h4,Bf6,Rd2,Qb6,h5,Qb3,Qc2,Qc4,Qd3,Qb4,Qe4', 'Bxc3,Qxb4,Bxb4', 'https://lichess.org/training/EXszU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ExTCM', 'Blitz', 'edrocks', 2207, 'LM Flaneur', 2298, 'e4,c5,Nc3,Nc6,Nge2,e6,d4,cxd4,Nxd4,Qc7,g3,a6,Bg2,Nf6,O-O,Bc5,Nb3,Ba7,Bf4,Ne5,h3,d6,Nd4,O-O,Kh2,b5,a3,Bb7,Ndxb5,axb5,Nxb5,Qb6,Nxd6,Ng6,Be3,Qa6,Bxa7,Rxa7,Nxb7,Rxb7,e5,Nd5,b3,Nc3,Qe1,Rc7,f4,Rd8,Rf3,Ne2,c4,Nd4,Rd3,Rcd7,Rad1,Qa7,Qc3', 'Ne2,Qe1,Rxd3,Rxd3,Rxd3', 'https://lichess.org/training/ExTCM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ExTcU', 'Blitz', 'mk_crasher', 1819, 'pramod9', 1813, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,Nf6,Bc4,O-O,O-O,c6,Nf5,Nxe4,Nxe7+,Qxe7,Re1,d5,Bxd5,Nxc3,bxc3,Qc5,Bb3,Qxc3,Ba3,c5,Qd6,Na6,Ba4,Qxa3', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/ExTcU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EXvfP', 'Rapid', 'Furbar', 1635, 'rausshvoux', 1618, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bb5,Bd7,Be3,Nf6,O-O,a6,Bc4,e6,Nd2,Ne5,Bb3,Be7,f4,Neg4,Qf3,Nxe3,Qxe3,Rc8,e5,d5,exf6', 'Bc5,Qxc5,Rxc5,fxg7,Rg8', 'https://lichess.org/training/EXvfP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eXVkz', 'Blitz', 'gabrieleud', 1518, 'chichan', 1507, 'e4,e5,d4,exd4,c3,Qh4,Nd2,dxc3,bxc3,Bc5,g3,Qe7,Bc4,Nf6,Qf3,O-O,Ne2,Re8,O-O,Nxe4,Nxe4,Qxe4,Qxf7+,Kh8,Bh6,gxh6', 'Qf6#', 'https://lichess.org/training/eXVkz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exWAf', 'Rapid', 'Marcellodyson1971', 1764, 'SecondStory', 1754, 'd4,Nf6,Bg5,d5,Nc3,c6,Nf3,g6,h4,Bg7,Bd2,O-O,e3,Nbd7,g4,Nxg4,Rg1,Ngf6,Ne5,Nxe5,dxe5,Nh5,Be2,Qc7,Bxh5,gxh5,Qxh5,Kh8,f4,Be6,Qg5,Rg8,Qh5,Qd7,Qf3,Bh6,O-O-O,Rg7,h5,Rag8,Ne2,Bg4,Rxg4,Rxg4,f5,Rg2,Bc3,Bxe3+,Qxe3,Qxf5,e6+,f6,Kb1,Qxh5,Re1,Qf5,Nd4,Qf2,Qxf2,Rxf2,a3,h5,Rh1,Rg5,Be1,Rfg2,Nf3,Rf5', 'Nh4,Rfg5,Nxg2', 'https://lichess.org/training/exWAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('exWiT', 'Blitz', 'radwanattar', 1923, 'cursed_russian', 1948, 'Nf3,d5,b3,Nf6,Bb2,Bf5,d3,h6,Nbd2,Nbd7,e3,e6,Be2,c5,O-O,b5,c4,bxc4,bxc4,Bd6,Qc2,O-O,e4,dxe4,dxe4,Bh7,Bd3,e5,Nb1,Qc7,Nc3,Nb8,Nd5,Nxd5,exd5,Bxd3,Qxd3,f5,Qe2,e4,Nh4,Bxh2+,Kh1,Be5', 'Bxe5,Qxe5,Ng6,Qf6,Nxf8', 'https://lichess.org/training/exWiT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Exwq3', 'Rapid', 'kevipo', 1638, 'CATATUS', 1704, 'e4,e5,Nf3,f5,exf5,d6,d3,Bxf5,Bg5,Nf6,Nc3,Be7,Qe2,O-O,O-O-O,a5,h4,h6,Bxf6,Bxf6,g3,Bg4,Qe4', 'Bxf3,Qxf3,Bg5+,hxg5,Rxf3', 'https://lichess.org/training/Exwq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eXwtL', 'Blitz', 'IM opperwezen', 2721, 'mostwanted84', 2493, 'd4,Nf6,Bf4,e6,e3,b6,Nf3,Bb7,Be2,Be7,h3,O-O,O-O,c5,c3,d5,Nbd2,Nbd7,Qb1,a6,b4,cxd4,cxd4,b5,a4,bxa4,Rxa4,Nb6,Ra5,Ne4,Rc1,Bd6,Bxd6,Qxd6,Rac5,h6,Nxe4,dxe4,Ne5,Bd5,g3,Rab8,Qa1,Nd7,Nxd7,Qxd7,Qa5,Qb7,Rb1,Ra8,Rc7,Qb8,Rbc1,Rd8,Bh5,g6,Be2,Kg7,h4,h5,Qc5,Re8,Qd6,Ra7,Qe5+,Kg8,Rxa7,Qxa7,Rc7,Qb8,Qf4', 'e5,dxe5,Qxc7', 'https://lichess.org/training/eXwtL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eXX1z', 'Bullet', 'hurtedking', 1653, 'Ergistal', 1614, 'e4,e6,d4,c5,d5,exd5,exd5,d6,Nf3,h6,Bd3,Be7,Bf4,a6,Nbd2,b5,c4,Nf6,O-O,Bg4,h3,Bh5,cxb5,O-O,bxa6,Nxd5,Be4,Nxf4,Bxa8,Nxa6,Be4,Qd7,g4,Bxg4,hxg4', 'Qxg4+,Kh1,Qg2#', 'https://lichess.org/training/eXX1z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ey0Sh', 'Bullet', 'ChessyMcChessface', 1748, 'toyobo', 1858, 'Nf3,d5,c4,d4,e3,Nc6,a3,e5,exd4,exd4,b4,Nf6,b5,Nb8,Bb2,Bc5,Qe2+,Be6,Ng5,O-O,Nxe6,fxe6,d3,e5,g3,Ng4,Qxg4,Nd7,Bg2,Nf6,Qe6+,Kh8,Bxb7,Rb8,Bc6,a6,Qxe5,axb5,cxb5,Nd7,Bxd7,Qxd7,Qxc5,Rxb5,Qxd4,Re8+,Kf1', 'Qh3+,Kg1,Re1#', 'https://lichess.org/training/ey0Sh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eY2sE', 'Rapid', 'Volchenok', 2082, 'jalrivi1952', 2102, 'd4,d5,c4,e6,Nc3,f5,Nf3,Nf6,Bf4,c6,cxd5,exd5,h3,Bd6,Bxd6,Qxd6,e3,O-O,Bd3,Ne4,O-O,Nd7,Rc1,Ndf6,Ne5,a6,Ne2,Be6,f3,Ng5,Nf4,Bf7,Qb3,Nh5,Nxh5,Bxh5,Qxb7,Rab8,Qd7,Qh6,Nxc6,Rxb2,Ne7+,Kh8,Rc8,Nxh3+,Kh2,g5,Rxf8+,Qxf8,Kxh3,Be8,Qxf5', 'Qh6+,Kg3,Qh4#', 'https://lichess.org/training/eY2sE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EY3OQ', 'Classical', 'Swedemax', 1757, 'mark190', 1739, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d4,Bb4+,Bd2,Qe7,Bxb4,Qxb4+,Qd2,Qe7,Qe2,O-O,d5,Qb4+,Nc3,Bg4,f3', 'Re8,O-O-O,Rxe2', 'https://lichess.org/training/EY3OQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EY8Co', 'Rapid', 'Zanma', 1771, 'theBestTal', 1993, 'c4,e5,Nc3,Nc6,Nf3,f5,e3,Nf6,g3,Bb4,a3,Bxc3,bxc3,O-O,Bh3,d6,O-O,Qe8,Qc2,Qh5,Bg2,Ne7,d3,f4,exf4,Bh3,Ne1,Ng6,Bxh3,Qxh3,f3,exf4,g4,Rae8,Qd2,Nh4,Rf2,Nxg4,fxg4,Qxg4+,Kh1,Re3,Ng2,Rfe8,Rxf4,Re1+,Nxe1', 'Rxe1+,Qxe1,Qg2#', 'https://lichess.org/training/EY8Co');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eY8qZ', 'Rapid', 'Calculus199', 2267, 'alik_garai', 2166, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Bb6,O-O,d6,h3,Nf6,d3,O-O,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Kg7,Qf3,Be6,Bb5,Rh8,Qg3,Nh5,Qh4,f6,Be3,Nf4,Qg3+,Ng6,Bxc6,bxc6,d4,Qd7,f4,exf4,Rxf4,Rag8,Rf1,Kf7,Qf2,Qe7,Bg5,Ke8,Bxf6,Qh7,Bxh8,Rxh8,Qf6,Kd7,Na3,Rf8,Qg5,Rxf1+,Rxf1,Ne5,Kh2,Nf7,Qf4,Bxa2,Nc2,Bc4,Rf2,Kc8,Ne3,Be6,Nf5,Kb7,Ne3,Bb3,Ng4,Nd8,e5,Ne6,Qf6,Qe4,exd6,cxd6,Qe7+,Ka6,Qxd6', 'Bc7,Qxc7,Nxc7', 'https://lichess.org/training/eY8qZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYa7p', 'Classical', 'Stsvo', 1803, 'TenebrisDeAngelus', 1813, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,c6,Nf3,Qc7,Ne5,Bf5,Bc4,e6,O-O,Bd6,Re1,Nbd7,Bf4,Bxe5,Bxe5,Nxe5,dxe5,Nd7,Qe2,O-O,Ne4,Bxe4,Qxe4,Rfd8,Bd3,Nf8,f4,Qb6+,Kh1,Rd4,Qe3,Rad8,b3,Ng6,g3,Ne7,Rad1,Nf5,Qf3,Ne7,c3,R4d7,g4,Nd5,Be4,Nxc3', 'Rxd7,Rxd7,Qxc3', 'https://lichess.org/training/eYa7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EyaFw', 'Classical', 'fmr00c', 1776, 'WaisKamal', 1929, 'Nf3,d5,d4,Nf6,c4,e6,cxd5,exd5,Nc3,Be7,Bg5,O-O,e3,c5,dxc5,Be6,Bd3,h6,Bxf6,Bxf6,Rc1,Qa5,Bb1,Qxc5,O-O,Nc6,Qd3,g6,Ne2,Qe7,Nfd4,Nxd4,Nxd4,Bxd4,Qxd4,b6,Rc3,Rac8,Rfc1,Rxc3,Rxc3,Rc8,Rxc8+,Bxc8,Qxd5,Qb4,Bd3', 'Qe1+,Bf1,Ba6', 'https://lichess.org/training/EyaFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYCau', 'Blitz', 'georgdev', 1635, 'la-torre-negra', 1554, 'd4,e5,c3,Nf6,Nf3,Nc6,Bg5,d5,dxe5,Nxe5,Nxe5,Bd6,f4,h6,Bh4,Qe7,e3,c6,Bxf6,Qxf6,Ng4,Bxg4,Qxg4,O-O,Bd3,Rae8,Kf2,Bc5,Re1,Re7,Nd2,Rfe8,Qf3,Qh4+,g3', 'Qxh2+,Qg2,Bxe3+,Kf1,Qxg2+,Kxg2,Bxd2,Rxe7,Rxe7', 'https://lichess.org/training/eYCau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYcff', 'Blitz', 'massimilianoferri', 2274, 'jdefreitas', 2099, 'e4,d5,exd5,Nf6,c4,c6,d4,cxd5,Nf3,e6,Nc3,Be7,Bg5,Nc6,c5,O-O,Bb5,Bd7,O-O,Ne4,Bxe7,Qxe7,Rc1,Ng5,Bxc6,Nxf3+,Qxf3,Bxc6,b4,a6,Qf4,Qd7,Rfe1,Rae8,Re3,Bb5,Rh3,f6,Qh4,g6,a4,Bc4,Rf3,Qg7,b5,axb5,axb5,e5,Re3,f5,Rce1,e4,Rd1,Qd7,f4,Bxb5,Nxb5,Qxb5,Qe1,Ra8,Rb1,Qc4,Rb4,Qc2,Re2,Qd3,Re3,Qc2,Rc3,Qa2,Rxb7,Rab8,Rxb8,Rxb8,Rc1,Qb2,c6,Qxd4+,Kh1,Rc8,c7,Qg7,Qa5,Qd7,Qb6,Kf7,Qb8,Ke6,Qb6+,Qd6', 'Rc6,Qxc6,Qxc6+', 'https://lichess.org/training/eYcff');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYCZd', 'Rapid', 'KOLIBRY_2020', 1842, 'Bdfy2009', 1885, 'e4,c5,d4,cxd4,Nf3,d6,Nxd4,Nd7,Bb5,a6,Ba4,b5,Bb3,Bb7,Nc3,b4,Qf3,Ne5,Ba4+,Nd7,Nd5,a5,Nb5,Bxd5,exd5,Ngf6,Bg5,h6,Bxf6,gxf6,Qe4,Bg7,Nxd6+,Kf8,Nf5,Nc5,Qg4,Rg8,Bc6,Rc8,Qh5,e6,Nxg7,Kxg7,O-O,Kh7,Qxf7+,Rg7,Qh5,Rg5,Qe2,exd5,f4,Rg7,Bb5,Ne4,Bd3,f5,Qh5,Qf6,Bxe4,dxe4,b3,Rxc2,g3,e3,Rfe1,e2,Rac1,Rxc1,Rxc1,Qd4+,Kh1,Qe4+,Kg1,e1=Q+,Rxe1,Qxe1+,Kg2,Qe4+,Kh3,Rd7,Kh4,Rg7,Kh3,Rg6,Kh4,Rg5,Qf7+,Rg7,Qh5,Qe7+,Kh3,Qf6,Qe8,Qg6,Qb5,Qg4+,Kg2,Ra7,Qb6,Qg7,Kh3,Re7,Qxa5,Qg4+,Kg2,Re2+,Kg1,Qf3,Qxf5+,Kg7,Qd7+,Kf6,Qd6+,Re6,Qd8+,Kf5,Qf8+,Ke4,Qxb4+,Ke3,Qc5+,Ke2', 'Qc4+,Qd3,Qxe6+', 'https://lichess.org/training/eYCZd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EyDny', 'Rapid', 'jamsarsia', 2023, 'MikaelM', 2035, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Nf5,Bxf5,exf5,O-O,Bd3,Nc6,O-O,Ne5,h3,Nxd3,Qxd3,d5,g4,c6,g5,Nd7,f4,Nc5,Qg3,Re8,Be3,Kh8,Qh4,b5,Bd4,Kg8,f6,b4,fxe7,Qxe7,Rae1,Ne4,Nxe4,dxe4,Be5,h6,Qg3,hxg5,b3,f6,Bb2,Qc5+,Qf2,e3,Qe2,Rad8,fxg5,Qxg5+,Qg2,Qxg2+,Kxg2,Rd2+,Kf3,Rxc2,Re2,Rc5,Rxe3,Rf5+,Ke2', 'Rxe3+,Kxe3,Rxf1', 'https://lichess.org/training/EyDny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eyFuc', 'Rapid', 'HendraMadrid', 1718, 'DEMOLIDOR2016', 2124, 'e4,g6,d4,d6,Nf3,Bg7,Be2,Bg4,c4,Nc6,Be3,Bxf3,Bxf3,e5,d5,Nd4,O-O,Ne7,Nc3,O-O,Bg5,a6,h3,Qd7,Bg4,f5,exf5,gxf5,Bxe7,Qxe7,Bh5,Kh8,Re1,Qg5,Re3,f4,Ne4,Qh6,Rc3,f3,Bxf3,Rf4,Rac1,Nxf3+,Rxf3,Rxe4,Rcc3,Rd4,Qc2,e4,Rfe3,Rf8,Rb3,Be5,Rxb7,Qh4,Rbb3,Rd1+,Qxd1', 'Qxf2+,Kh1,Qf1+,Qxf1,Rxf1#', 'https://lichess.org/training/eyFuc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYgM1', 'Rapid', 'AgainstTheClock_81', 2340, 'Earth7', 2379, 'e4,c5,Nc3,e6,g3,d5,Bg2,d4,Nce2,e5,d3,Be6,f4,f6,Nf3,Nc6,O-O,Qd7,fxe5,Nxe5,Nxe5,fxe5,c3,O-O-O,cxd4,cxd4,Bg5,Be7,Rc1+,Kb8,Bxe7,Nxe7,Qd2,h5,h4,Bh3,Rf7,Bxg2,Kxg2,Qe6,Rxg7,Rhf8,Qg5,Nc6,Rh7,Rg8,Qxh5,Rdf8,Rf1,Rxf1,Kxf1,Rf8+,Kg2,Qxa2,Rh8,Rxh8,Qxh8+,Kc7,Qg7+,Kb6,h5,Qxb2,Qg4,Qd2,Kh3,a5,Ng1,a4,Nf3,Qc1,Qg6,a3,h6,a2,h7,Qf1+,Kg4,Qh1,Qg8,a1=Q,h8=Q,Qg2,Qb3+,Ka7,Qg7,Qa6,Nxe5,Qe2+,Nf3,Qexd3,Qxd3,Qxd3,e5', 'Qe4+,Kh3,Qxf3', 'https://lichess.org/training/eYgM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYhvL', 'Classical', 'Majidraoufi2050', 1810, 'kermit19', 1704, 'c4,e5,Nc3,f5,e3,Nc6,g3,Nf6,d4,Bb4,Bd2,Bxc3,Bxc3,Ne4,Bg2,O-O,d5,Nxc3,bxc3,Na5,Qa4,c6,d6,a6,c5,b5,cxb6,Qxb6,Qb4,Rb8,Rb1,Nc4,Rb3,Qxb4,Rxb4,Rxb4,cxb4,Nxd6,Nf3,Nc4,O-O,e4,Nd4,Ne5,Rc1,Rf6,Bf1,g5,Rc5,d5,Ra5,Nd3,Bxd3,exd3,Kf1,f4,Ke1,fxe3,fxe3,h5,Kd2,Bh3,Rxa6', 'Rf2+,Kxd3,Bf1+,Kc3,Bxa6', 'https://lichess.org/training/eYhvL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EYiAj', 'Blitz', 'Vicente1959', 2129, 'FM LuisFlaquer', 2421, 'e4,e5,Nc3,Nc6,Bc4,Nf6,Nge2,Nxe4,Bxf7+,Kxf7,Nxe4,d5,N4g3,Bd6,d4,e4,O-O,Rf8,f3,exf3,Rxf3+,Kg8,Rxf8+,Bxf8,c3,Be6,Nf4,Bf7,Qg4,Ne7,Nfh5,Ng6,Bg5,Qc8,Qf3,Qd7,Rf1,Re8,Bh6,c6,Bxg7,Bxg7,Nxg7,Kxg7,Nf5+,Kh8,Nh6,Be6,h3,Qg7,Qh5,Rf8,Re1,Nf4,Qe5,Qxe5,Rxe5,Rf6,Ng4,Bxg4,hxg4,Kg7,g3,Ng6,Re8,Rf8,Re6,Kf7,Re3,Re8,Rf3+,Kg7,Kg2,Re4,Kh3,Re2,g5,Rxb2,Re3,Rxa2,Kg4,Rb2,Re8,Rb3,Rc8,Rxc3,Rc7+,Kg8,Kf5,Re3,Kf6,Rf3+,Ke6,Re3+,Kf6,Re7', 'Rc8+,Re8,Rxe8+', 'https://lichess.org/training/EYiAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EYjEe', 'Rapid', 'Adelhb', 1908, 'ojann', 1606, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,Qc7,O-O,e6,Kh1,Be7,f4,O-O,Bd3,b5,a3,e5,fxe5,dxe5,Nf5,Bc5,Qf3,Bb7,Qg3,Nh5,Qg5,g6,Rf3,Nd7,Rh3,Ndf6,g4,Nf4,Qxf6,gxf5,Qg5+,Ng6,Qh6,f6,gxf5,Nf4,Bxf4,exf4,Rg1+,Kh8,b4,Bxg1,Kxg1,Rg8+,Kh1,Rg7,Qxf6,Rg8', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/EYjEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYjxl', 'Blitz', 'Firefox2610', 1798, 'Ben8682', 1813, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Be3,Qc7,Be2,Nf6,O-O,Bb4,Nxc6,Qxc6,Bd4,Bxc3,Bxc3,Nxe4,Bxg7,Rg8,Be5,Ng5,f4', 'Nh3+,Kh1,Qxg2#', 'https://lichess.org/training/eYjxl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYk5J', 'Blitz', 'FM Keipo', 2140, 'mariodan1985', 2140, 'd4,e6,Nf3,d5,Bf4,Bd6,Bxd6,cxd6,e3,Nf6,c4,O-O,Nc3,dxc4,Bxc4,d5,Bd3,b6,Qe2,Nc6,a3,Bb7,O-O,Rc8,Rac1,Na5,Ne5,Qd6,Nb5,Qb8,b4,Nc6,Nxc6,Rxc6,Rc5,bxc5,dxc5,Ba6,Nd4,Bxd3,Qxd3,Rcc8,f4,Ne4,Rc1,Qb7,c6,Qb6,b5,Nd6,a4,Nc4,Qc3,a6,a5,Qc5,bxa6,Qxa5,Qxa5,Nxa5,c7,Nc4,Nb5,Ra8,a7,Nxe3', 'Nd6,Rxa7,c8=Q', 'https://lichess.org/training/eYk5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYKbm', 'Classical', 'Ironiker2018', 1899, 'STANISLAV2', 1850, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,Bd6,Bg3,Bd7,Ngf3,Nc6,Ne5,Ne4,Nxe4,dxe4,Be2,O-O,O-O,f6,Nxd7,Qxd7,Bxd6,cxd6,d5,Nb4,dxe6,Qxe6,b3,Rac8,c3,Nd5,Bc4,Rc5,Bxd5,Rxd5,Qc2,Rc8,c4,Rdc5,Qb2,R8c6,Rfd1,Rb6,Qe2,Qe5,Rab1,Qe6,Rb2,Rg5,Rbd2,Qh3,g3,Qe6,Rd5,Rxd5,Rxd5,Rc6,Qd2,Kf7,Qb4,Rb6,Qa5,Ra6,Qc7+,Qe7,Qxe7+,Kxe7,Rb5,Rb6,Rxb6,axb6,Kg2,d5,cxd5,Kd6,f3,Kxd5,f4,Kc5,a3,b5,Kf2,b4,a4,b5,axb5,Kxb5,g4,Kc5,h4,Kd5,Kg3,h6,g5,hxg5,fxg5,fxg5,hxg5,Ke5,Kh4,Ke6,Kh5', 'Kf5,Kh4,g6,Kh3,Kxg5', 'https://lichess.org/training/eYKbm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eykuM', 'Rapid', 'Kancleris', 1609, 'serg1979', 1785, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,O-O,Bd7,d3,a6,Ba4,b5,Bb3,Na5,Bg5,Be7,Qd2,Nxb3,axb3,h6,Bh4,Nh5,Bxe7,Qxe7,Nd5,Qd8,Qc3,c5,Qa5,O-O,Qxd8,Rfxd8,Nc7,Ra7,Nxa6,Rda8,Nxc5,dxc5,Rxa7,Rxa7,Nxe5,Be6,c4,bxc4,bxc4,Rb7,Rb1,Rb3,g3,f5,f4,fxe4,dxe4,Rb4,b3,Nf6,Nc6,Rb6,e5,Ne4,Na5,Nd2,Rb2,Nxb3', 'Rxb3,Rxb3,Nxb3', 'https://lichess.org/training/eykuM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EYljV', 'Blitz', 'denispdevassy', 1771, 'Wee_Jock_McPlop', 1742, 'd4,f5,g3,e6,Bg2,Nf6,c4,d6,Nd2,e5,dxe5,dxe5,Ngf3,Nc6,O-O,Bd6,Qc2,O-O,e4,f4,Re1,fxg3,fxg3,Bc5+,Kh1,Nh5,Nf1,Nb4,Qb3,Qe8,Be3,Bxe3,Nxe3,Rf6,Qxb4,Rh6,Nf5,Bxf5,exf5,Nxg3+,Kg1,Nxf5,Rxe5,Qg6,Rae1,Rh5,Qxb7,Rf8,Qd5+,Kh8,Rxf5,Rhxf5,Nh4,Qb6+,Kh1,Rxd5,Bxd5,Qd4,Nf3,Qxb2,Ne5,Rf2', 'Nf7+,Rxf7,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/EYljV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYM3t', 'Classical', 'Chishinba', 1911, 'avinashthemator', 1866, 'd4,Nf6,Nf3,d5,g3,Nc6,Bg2,e6,O-O,Bd6,Nbd2,O-O,c4,b6,cxd5,exd5,a3,Bf5,Re1,Re8,b4,Qe7,Bb2,Ng4,e3,Nxf2,Kxf2,a5,Nh4,Qg5,Nxf5,Qxf5+,Kg1,axb4,Qb3,bxa3,Bxa3,Rxa3,Rxa3,Nxd4,Qd3,Bxa3,Qxd4,Bc5,Qa4,Rxe3,Rxe3,Bxe3+,Kh1,Qc8,Nf1,b5,Qxb5,c6,Qd3,Bg5,Qc2,Qe6,Qb3,Qe8,Qa4,Kf8,h3,h5,Qc2,h4,g4,Kg8,Qf5,Bc1,Bf3,Ba3,Bd1,Bc5,Ba4,Qa8,Bc2,g6,Qg5,Qa1,Qf4,Qc3,Ba4,Qxh3+,Nh2,Qa3,Bxc6,Bd6,Qf3', 'Qc1+,Nf1,Qxc6', 'https://lichess.org/training/eYM3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eyM7w', 'Classical', 'habibchess2', 1608, 'zasfet', 1690, 'd4,Nf6,Bf4,d6,e3,Nd5,Bg3,Nc6,c3,Bf5,Nd2,e5,e4,exd4,exd5,dxc3,bxc3,Ne5,Bb5+,Bd7,Bxd7+,Qxd7,Qe2,Qe7,Ngf3,Nxf3+,Nxf3,Qxe2+,Kxe2,O-O-O,Rhe1,g6,Kf1,Bg7,Rac1,h5,Ng5,Bh6,Nxf7,Bxc1,Rxc1,h4,Bf4,Rdf8,Nxh8,Rxf4,Nxg6,Rg4,Ne7+,Kd7,Nf5,Rg5,Nxh4,Rxd5,Nf3,Ra5,Rc2,c5,Rd2,c4,Rd4,d5,Ne5+,Ke6,Nf3,Rxa2,Rd1,Rc2,Re1+,Kd6,Re3,a5,Re1,Rxc3,Ra1,b6,Ke2,Rb3,Kd2,Rb2+,Ke3,c3,h4,c2,Kd2', 'Rb1,Kxc2,Rxa1', 'https://lichess.org/training/eyM7w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eymLX', 'Blitz', 'SimonStork', 2184, 'crafty35a', 1908, 'Nf3,d5,d4,c6,c4,Nf6,Nc3,Bf5,Bg5,e6,e3,Nbd7,h3,Be7,Rc1,O-O,cxd5,exd5,Bd3,Bg6,O-O,Re8,Bxg6,hxg6,Na4,Qa5,a3,Rac8,b4,Qb5,Nc5,Rc7,Qd2,Ne4,Nxe4,dxe4,Bxe7,Rxe7,Ng5,Qd5,h4,f6,Nh3,Qh5,g3,Qg4,Kh2,Nb6,Nf4,Nd5,Nxd5,cxd5,Rxc7,Rxc7,Rc1,Qc8,Rxc7,Qxc7,Qa2,Qc6,Kg2,Kf7,a4,a6,Qb3,b5,axb5,axb5,Qa3,Qb7,Qa5,f5,Qd8,Ke6,Qg8+,Kf6,Qf8+,Ke6,Qc5,Qd7,Kh3,Qb7,g4,Qd7,gxf5+,gxf5,Kg3,Qb7,Kf4,Qb8+,Kg5,Qd8+,Kf4,Qb8+,Kg5,Qd8+,Kh5', 'Qh8+,Kg6,Qh6#', 'https://lichess.org/training/eymLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eyo0S', 'Rapid', 'adeb123', 1965, 'matrix5656', 2012, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Bd3,Bg4,h3,Bh5,Be3,e6,g4,Bg6,Qe2,Be7,O-O-O,Qa5,Kb1,Nd5,Bd2,Qc7,Ne5,Bxd3,Qxd3,f6,Nc4,b5,Ba5', 'bxc4,Bxc7,cxd3', 'https://lichess.org/training/Eyo0S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EyofM', 'Rapid', 'rota29', 1652, 'SlimyCat', 1722, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,Be2,Be7,O-O,O-O,Nd5,Nc6,Nxe7+,Nxe7,Bf3,d5,exd5,Bxd5,Bg5,Bxf3,Qxf3,Qd6,Bxf6,gxf6,Rad1,Qc7,c3,Ng6,Qxf6,Rfe8,Rfe1,Re6,Qg5,f6,Qg4,Rc6,h4,Kh8,h5,Nf4,h6,Rg8,Qf5,Nxg2,Kf1,Nxe1', 'Rd7,Qxd7,Qxd7', 'https://lichess.org/training/EyofM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eyphG', 'Bullet', 'Marianagreat', 1871, 'mpopovic', 1864, 'Nf3,Nf6,Nc3,d6,e4,g6,d4,Bg7,Be3,O-O,Qd2,c5,dxc5,dxc5,O-O-O,Qxd2+,Rxd2,b6,h3,Bb7,Bd3,Nc6,Rhd1,Nb4,Bc4,Nxe4,Nxe4,Bxe4,a3,Nxc2,Rxc2,Bxc2,Kxc2,e6,Rd7,Rfd8,Rc7,a6,h4,b5,Be2,c4,Bg5,Rdc8,Rd7,c3,b3,h6,Be7,Bf8,Bxf8,Kxf8,Ne5,Rab8,Rxf7+,Kg8,Ra7,Ra8,Rb7,Rc5,Nxg6,e5,Bf3,Rd8,Ne7+,Kh8,Ng6+,Kg8,h5,Rd2+,Kc1,Rxf2,Ne7+,Kf8,Nc6,Rf1+,Kc2,Rf2+,Kd3,c2,Rb8+,Kg7,Rb7+,Kf6,Rb6,Kg5,Ne7,c1=Q', 'Rg6+,Kf4,Rg4#', 'https://lichess.org/training/eyphG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EyqEQ', 'Rapid', 'Chischwi', 1840, 'samvelqs', 1829, 'd4,d5,c4,dxc4,e3,e6,Bxc4,Nf6,Nf3,Be7,Nc3,Nc6,O-O,O-O,a3,a6,b4,b5,Bd3,Bb7,Bb2,Nd5,Qc2,g6,Rfe1,Bf6,Rad1,Nb6,d5,exd5,Nxd5,Bxb2,Qxb2,Qxd5,Bxg6,Qe6', 'Bxh7+,Kxh7,Ng5+,Kg8,Nxe6', 'https://lichess.org/training/EyqEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EYqkA', 'Rapid', 'Lucianosky', 2040, 'meghatodott', 2168, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Nxe4,d5,Bxd5,Qxd5,Nc3,Qd6,d3,Bg4,h3,Bh5,O-O,O-O-O,Ne4,Qg6,Ng3,Bxf3,Qxf3,Nd4,Qd1,f5,c3,Nc6,Ne2,f4,d4,f3,Ng3,fxg2,Kxg2,exd4,cxd4,h5,h4,Rxd4,Qf3,Kb8,Bg5,Bd6,Rfe1,Rf8,Qxh5,Qxh5,Nxh5,Rg4+,Ng3,Bxg3,fxg3,Nd4,Rf1,Re8,Rae1,Rg8,Kh3,Rxg5,hxg5,a6,Re7,Nc6,Rd7,Ne5,Re7,Nc4,b3,Nd6,Rc1,c6,Rd1,Nf5,Rf7', 'Rh8+,Kg4,Ne3+,Kf4,Nxd1', 'https://lichess.org/training/EYqkA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EYQq5', 'Blitz', 'INVERNALIA', 1777, 'Lilava', 1763, 'd4,d5,c4,e6,Nc3,c6,Nf3,Nf6,Bg5,Be7,c5,b6,b4,bxc5,bxc5,Ne4,Bxe7,Qxe7,Qc2,f5,e3,O-O,Bd3,Nd7,O-O,Ndf6,Rab1,Ng4,h3,h5,hxg4,hxg4,Ne5,Qh4,Ng6,Qh5,Nxf8,Kxf8,Bxe4,fxe4,Ne2,Kf7,Ng3,Qh4,Rfd1,Ba6,Qa4,Bd3,Rb7+,Kf6,Qxc6,Rh8,Rxd3,exd3,Qd7', 'Qh2+,Kf1,Qh1+,Nxh1,Rxh1#', 'https://lichess.org/training/EYQq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYr0Z', 'Classical', 'sailu742', 2133, 'sari_kanarya1907', 2043, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Bg7,h4,h5,f3,Nc6,Be3,O-O,g4,a6,g5,Nd7,Qd2,Nc5,Nd5,e6,Nc3,Qb6,O-O-O,Rd8,Kb1,Qc7,f4,b5,Bf3,Bb7,f5,b4,Nce2,a5,fxg6,fxg6,Nb5,Qb6,Nbd4,Nxd4,Nxd4,e5,Ne6,Rdc8,Qf2,Qc6,Nxg7,Kxg7,Bxc5,dxc5,Rd5,Qe6,Rd2,Rf8,Qe3,c4,Rhd1,Rf7,Rd6,Qh3,Qb6,Qxf3,Rxg6+,Kh7,Rh6+,Kg7', 'Qg6+,Kf8,Rh8+,Ke7,Qd6#', 'https://lichess.org/training/eYr0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYrrB', 'Blitz', 'drg67', 2130, 'Victorovich67', 2126, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Bc4,Qc7,Qe2,Nb6,Bb3,Nc6,f4,d5,Nf3,Bf5,Nxd4,e6,O-O,Nxd4,cxd4,Be7,Nc3,O-O,g4,Be4,Nxe4,dxe4,Qxe4,Rad8,Be3,Nd5,Bc2,g6,Rac1,Qa5,f5,Qxa2,f6,Bb4,Rf3,Qxb2,Rh3,Rc8,g5,Rc3,Rxh7,Rxe3', 'Rg7+,Kh8,Qh4#', 'https://lichess.org/training/eYrrB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eYRVQ', 'Classical', 'datadweller', 1863, 'TacticalTim', 1804, 'e4,c5,Nf3,Nc6,Bb5,d6,d4,cxd4,Nxd4,Bd7,Qd3,a6,Nxc6,Bxc6,Bxc6+,bxc6,Bf4,g6,e5,dxe5,Qxd8+,Rxd8,Bxe5,Nf6,Nc3,Bg7,g4,O-O,f3,Nd5,Bxg7,Kxg7,Ne4,Ne3,Ke2,Nxc2,Rhc1,Nd4+,Ke3,e5,Nc5,Rb8,Nd7,Rxb2,Nxf8,Kxf8,Rab1,Rxa2,Rb8+,Kg7,h4,Ra3+,Ke4,Nxf3,Rxc6,Nxh4,Kxe5,Ra5+,Kf4,g5+,Kg3,Ra3+,Kf2,Rf3+,Ke2,a5,Rb5,h6,Rxa5,Rf4,Raa6,Rxg4,Rxh6,Ng6,Rh1,Nf4+,Kf3,Rg2,Ra5,f6,Ra7+,Kg6,Rh8,Rb2,Rg8+,Kf5,Ra5+,Ke6,Re8+,Kf7,Rc8,Kg6,Ra6,Rb3+,Kg4,Rb4,Rg8+,Kf7,Raa8,Ng6+,Kg3,Rb3+,Kf2,Rb2+,Ke3,Rb3+,Kd4,Rb4+,Kc5,Re4,Rgb8,Re5+,Kd6,Re6+,Kd5,Re5+,Kd4,Nf4,Rf8+,Kg6,Rg8+,Kf5,Ra6,Rd5+,Kc4,Re5,Rf8,Re4+,Kc3,Re3+,Kd2,Re2+,Kd1,Re6,Ra5+,Re5,Ra7,Rd5+,Kc2,Rc5+,Kb3,Rb5+,Kc4,Re5,Rb8,Re4+,Kc3,Re5,Rb6', 'Nd5+,Kd4,Nxb6', 'https://lichess.org/training/eYRVQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EYTtR', 'Blitz', 'Roberto_Baggio1978', 2479, 'FM GMshooter96', 2502, 'd4,e6,Nc3,Nf6,Bf4,d5,Nb5,Na6,e3,c6,Nc3,Qa5,Bd3,c5,Nf3,c4,Be2,Bb4,O-O,O-O,Ne5,Bxc3,bxc3,Ne4,Bf3,f6,Nxc4,Qxc3,Bxe4,Qxc4,Bd3,Qc3,Rb1,b6,Qh5,f5,Rb3,Qc6,g4,Qe8,Qh4,Nb8,Kh1,Ba6,Rg1,Bxd3,Rxd3,Nc6,Rc3,Rc8,gxf5,Rxf5,Qg4,g6,h4,Ne7,Rxc8,Qxc8,Bg5,Kf7,h5,Qxc2,Bxe7,Kxe7,hxg6,hxg6,Qxg6,Qe4+,Rg2,Rxf2,Qg7+,Kd6', 'Qg3+,Kc6,Qxf2', 'https://lichess.org/training/EYTtR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EyUtG', 'Rapid', 'DanielManriquez', 1949, 'FonoyMaster', 1892, 'd4,d5,c4,dxc4,e4,Nf6,e5,Nd5,Bxc4,Nb6,Bd3,Nc6,Nf3,Bg4,Be3,e6,O-O,Be7,Nc3,Nb4,Be4,N4d5,h3,Bh5,Qc2,Qd7,Rac1,O-O-O,Bxd5,Nxd5,Nxd5,exd5,Bg5,Bxf3,Bxe7,Qxe7,gxf3,c6,b4,Qxb4,Qf5+,Kb8,Qxf7,Qxd4,Rb1,b6,e6,Rhf8', 'e7,Rxf7,exd8=Q+', 'https://lichess.org/training/EyUtG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EyVPM', 'Rapid', 'idho_dwianri', 1958, 'Kanpur0512', 2036, 'Nf3,e6,d4,d5,c4,c5,e3,Nc6,Nc3,Nf6,cxd5,exd5,Be2,Be7,O-O,O-O,a3,Be6,h3,c4,Qc2,a6,e4,dxe4,Nxe4,Nxd4,Nxd4,Qxd4,Nxf6+,Bxf6,Rd1,Qe5,Bxc4,Rac8,Be3,b5,Bd4,Qg5,Be3,Qe5,Bd4,Qb8,Bxf6,Rxc4,Bc3,b4,axb4,Rfc8,Rxa6,Rxb4,Qd2,Rbc4,Rd6,h6,Qe3,Qb3,Qd3,Re8,Qg3,g6,h4,h5,Rd8,Rc8,Rxe8+,Rxe8,Qe5,Qxd1+,Kh2,f6', 'Qxf6,Qd6+,Be5,Qxe5+,Qxe5', 'https://lichess.org/training/EyVPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eyW5J', 'Rapid', 'dragon82', 1689, 'Dastan1', 1629, 'e4,c5,Bc4,e6,d4,cxd4,Qxd4,Nc6,Qe3,d6,Nc3,Nf6,Nf3,Bd7,e5,dxe5,Nxe5,Be7,Bb5,O-O,O-O,Nxe5,Qxe5,Bxb5,Nxb5,a6,Nc3,Bd6,Qe1,Bc7,Bg5,Qd6,g3,Ng4,Bf4,Qc5,Bxc7,Qxc7,Qe2,f5,Qxe6+,Qf7,Qe2,Qh5,f3,Nf6,Rae1,Rfe8,Qc4+,Kh8,Rxe8+,Rxe8,Qc7,b5,Qb7,h6,Qxa6,b4,Na4,Rd8,Qb7,Rd2,Rf2,Rxf2,Kxf2,Qxh2+,Ke3,Qg1+,Kd3,Qd1+,Kc4,Qxc2+,Kb5,Qd3+,Ka5,Qd8+,Qb6,Qd5+,Qc5,Qa8+,Kxb4,Qb7+,Ka3,Qxf3+,Qc3,Qb7,b4,Ne4,Qd3,Kh7,Nc5,Qa7+,Kb3,Nxc5+,bxc5,Qxc5,g4,g6,Qd7+,Kg8,Qe8+,Qf8,Qxg6+,Qg7,Qxg7+,Kxg7,gxf5', 'h5,Kc4,h4', 'https://lichess.org/training/eyW5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Eyx0G', 'Bullet', 'GM DrNykterstein', 3126, 'GM RebeccaHarris', 3044, 'e4,e5,d4,Nc6,dxe5,Nxe5,f4,Nc6,Nf3,Nf6,e5,Bc5,exf6,O-O,fxg7,Re8+,Be2,d5,Kf1,Bg4,Nbd2,Qf6,Nb3,Bb6,h3,Bf5,Bd3,Be4,Bd2,Qg6,Bc3,Qg3,Qe1', 'Bxd3+,cxd3,Rxe1+', 'https://lichess.org/training/Eyx0G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eyX4M', 'Rapid', 'krafmar', 1689, 'crabby2000', 1659, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,e5,Nf3,Nf6,Bc4,Be7,Bd2,O-O,Bc3,Ng4,Qe2,d6,h3,Nf6,Nbd2,a6,Rd1,b5,Bb3,b4,Bxb4,Nxb4,Qc4,a5,Ng5,d5,exd5,Nbxd5,Qh4,h6,Nxf7,Rxf7,Nf3,Qd6,c4,Qb4+,Kf1,Ba6,Nxe5,Rff8,Nc6,Qb6,Nxe7+,Nxe7,Kg1,Nh7', 'c5+,Qxb3,axb3', 'https://lichess.org/training/eyX4M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eyX9Z', 'Rapid', 'alijj', 1967, 'juwwyk', 2026, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,Bg5,Be7,Bc4,O-O,Nc3,c5,Qd3,Nc6,Qe3,Bg4,Nd5,Nxd5,Bxd5,Bxf3,Bxe7,Nxe7,Qxf3,Nxd5,exd5,Qg5,O-O,Rfe8,c4,Re5,Qb3,b6', 'f4,Qe7,fxe5', 'https://lichess.org/training/eyX9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eyZRe', 'Rapid', 'bevo', 1939, 'zipolite', 1978, 'b3,e5,Bb2,d6,e3,c5,Bb5+,Nc6,Bxc6+,bxc6,d4,cxd4,exd4,e4,c4,d5,cxd5,cxd5,Nc3,Nf6,Nge2,Bb4,a3,Ba5,O-O,Ba6,b4,Bb6', 'Qa4+,Qd7,Qxa6', 'https://lichess.org/training/eyZRe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EZ4jv', 'Blitz', 'CincottoROX', 1964, 'PAssw0RDS', 2131, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bxb5,Qxd5,Bxc6+,Qxc6,O-O,h6,Nf3,Bb7,Re1,e4,Nc3,O-O-O,Ne5,Qe6,d4,exd3,Nxd3,Qc6,f3,Bc5+,Kh1,Ng4,Re2,f5,fxg4,Rhe8,Qe1,Rxe2,Qxe2,Re8,Qf1,fxg4,Nxc5,Qxc5,Bf4,g5,Bg3,h5,Re1,Rf8,Qg1,Qc6,Re2,h4,Bf2,g3,hxg3,h3,Ne4,Rh8,gxh3,Rxh3+,Kg2,g4,Qe1,Qf6,Re3,Bxe4+,Rxe4', 'Qf3+,Kf1,Rh1#', 'https://lichess.org/training/EZ4jv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ez6e1', 'Rapid', 'TSK95', 1899, 'ElenaSenina1990', 1879, 'd4,d5,Bf4,Bf5,Nf3,Nf6,h3,e6,e3,Bd6,g4,Bg6,Bxd6,Qxd6,c3,Nbd7,Nbd2,h6,Qb3,O-O-O,c4,dxc4,Nxc4,Qd5,Be2,Ne4,Qb4,Rhe8,Rg1,c5,dxc5,Ndxc5,Na5,b6,Nb3,Nd3+,Bxd3,Qxd3,Ne5,Qc2,Rc1', 'Rd1+,Rxd1,Qxf2#', 'https://lichess.org/training/ez6e1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ez6Q3', 'Rapid', 'anthco', 1967, 'Jonimartin75', 2059, 'd4,Nf6,Bf4,d5,Nf3,c5,c3,Qb6,Qb3,c4,Qxb6,axb6,Nbd2,Nc6,h3,Bf5,e3,e6,Be2,Be7,O-O,h6,b4,b5,Rfc1,O-O,Ne5,Ra3,g4,Bh7,Nb1,Bxb1,Raxb1,Rxa2,Bf3,Rfa8,Nxc6,bxc6,Bg3,Nd7,Bc7,Bd8,Bxd8,Rxd8,Ra1,Rda8,Rxa2,Rxa2,e4,Nb6,exd5,cxd5,Bd1,Kf8,Kg2,Ke7,Kg3,Kd6,f4,Rd2,Bc2,f6,h4,e5,fxe5+,fxe5,dxe5+,Kxe5,Re1+,Kf6,Bf5,Na4,Re6+,Kf7,Re3,d4,cxd4,Rxd4,Re5,Nc3,Rc5,g6,Rc7+,Kf6,Rc6+,Ke5,Rxg6,Rd6,Rg8,Kd4,Rc8,Ne4+,Kf3,Nf6,Rc5,Rd5,Rc6,Ke5', 'Re6+,Kd4,Rxf6', 'https://lichess.org/training/ez6Q3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZ6RB', 'Rapid', 'bhujel99', 1634, 'Moh_2020', 1620, 'd4,d5,c4,c6,e3,Bf5,Nc3,e6,h3,Bb4,Qa4,Be7,cxd5,exd5,Nf3,Nf6,Be2,O-O,Ne5,Nbd7,O-O,h6,Qd1,Nxe5,dxe5,Nd7,Bg4,Bxg4,Qxg4,Nxe5,Qh5,Bd6,f4,Nd3,Ne2,Nxc1,Raxc1,Qf6,Nd4,Rfe8,Rc3,Re7,a3,a5,Rf3,Rae8,Rg3,Re4,Nf5,Bf8', 'Nxh6+,Qxh6,Qxh6', 'https://lichess.org/training/eZ6RB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZ70E', 'Blitz', 'NM Leon_Blanco', 2374, 'mohsentbt', 2382, 'e4,e5,Nc3,Nf6,Bc4,Nc6,d3,Bb4,Ne2,d5,exd5,Nxd5,O-O,Nxc3,Nxc3,O-O,f4,Qd4+,Kh1,Bxc3,bxc3,Qxc3,Rb1,e4,f5,Ne5,Bb2,Qa5,Bb3,exd3,cxd3,Rd8,f6,Bg4,Qc1,Nxd3,fxg7,Bh5,Qc4,Nxb2,Rxb2,Qa6,Qf4,Rd7,Rbf2,Qg6,h3,Qxg7,Qb4,Rad8,Qxb7,a5,Qe4,Bg6,Qe3,Qd4,Qh6,Qg7,Qf4,Qd4,Qf3,Qd3,Qf6,Qd4,Qg5,Qg7,Rf3,Rd3,Bc4,Rxf3', 'Qxd8+,Qf8,Qxf8+', 'https://lichess.org/training/eZ70E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EZ7sV', 'Rapid', 'AeK01', 1755, 'mustio123', 1719, 'c4,e6,Nc3,g6,d3,Bg7,g3,Nf6,Bg2,c6,Nf3,d5,cxd5,cxd5,d4,Nc6,Be3,Ne4,O-O,O-O,Qc1,Qb6,Bh6,Nxd4,Bxg7,Kxg7,Nxd4,Qxd4,Rd1,Qxf2+,Kh1,Nxc3,Qxc3+,Qf6,Qxf6+,Kxf6,e4,dxe4,Bxe4,Rb8,Rac1,b6,Rc7,Kg5,Rxa7,f5,Bf3,h6,Kg2,h5,Kf2,e5,Bc6,e4,Rd6,b5,Rg7,Rf6,Rxf6,Kxf6,Rg8,b4,Ke3,Kf7,Bd5+,Kf6,Kd4,Kg5,Be6,Bxe6,Rxb8,Bxa2,Rxb4,Kg4,Rb6,g5,b4,Kh3,Ra6,Bb1,Ra1,Bd3,Ra2,h4,gxh4,Kxh4,Rb2,Kh3,Ke5,f4,Kf5,f3,Kxg5,Be2,b5', 'f2,Rxe2,f1=Q', 'https://lichess.org/training/EZ7sV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ez8HQ', 'Blitz', 'Mikhail0577', 2095, 'ak-tr', 1907, 'd4,e6,Nf3,d6,Bf4,Be7,e3,h6,a3,a6,c4,Nd7,Nc3,Ngf6,h3,O-O,Be2,Nh5,Bh2,f5,O-O,Nhf6,b4,Ne4,Qc2,c6,Nxe4,fxe4,Qxe4,Nf6,Qc2,d5,Ne5,Qe8,Ng6,Rf7,Nxe7+,Qxe7,Bf3,Bd7,c5,Nh7,Bd6,Qg5,Bf4,Qd8,a4,Ng5,Bh5,Rf8,Bd6,Rf5,Bg6,Rf6,Be5,Rf8,f4,Ne4,Bxe4,dxe4,Qxe4,b6,Qg6,Rf7,Rf3,bxc5,bxc5,Ra7,Rg3,Be8,Qxh6,Qd5,Qg5,Qe4,h4,Rab7,h5,Rf5,Qd8,Rf8,h6,g6,Qc8,Rd7,Qxa6,Rh7,Bg7,Rf5,Qc4,g5,fxg5,Bf7,g6,Bxg6,Rxg6', 'Qxe3+,Kh2,Rh5#', 'https://lichess.org/training/ez8HQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZacF', 'Rapid', 'WhtevrFloatsYourBoat', 1862, 'MRZIZOOO', 1764, 'e4,e5,Nf3,d6,Bc4,Nc6,O-O,Be7,c3,Nf6,Re1,O-O,h3,a6,d4,b5,Bb3,Na5,Bc2,Nd7,dxe5,Nxe5,Nxe5,dxe5,Nd2,Bb7,Nf3,f6,b3,Qxd1,Rxd1,Rad8,Bb2,b4,c4,c5,Nh4,g6,Nf3,Nc6,Kf1,a5,Rd2,Rxd2,Nxd2,Rd8,Rd1,Nd4,Bb1,Bc6,f3,a4,Kf2,axb3,Nxb3,Nxb3,Rxd8+,Bxd8,axb3,Be7,Bc1,Kf7,f4,Ke6,Ke3,f5,fxe5', 'Bg5+,Kf2,Bxc1', 'https://lichess.org/training/eZacF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EZauN', 'Blitz', 'cb3164', 1768, 'TOptic', 1696, 'e4,c5,f4,d6,d3,g6,Nc3,Bg7,Be3,e6,Qd2,Ne7,Nf3,Nbc6,g4,Qc7,O-O-O,a6,d4,cxd4,Nxd4,Nxd4,Bxd4,Bxd4,Qxd4,O-O,h4,d5,h5,Qxf4+,Kb1,e5,Qd3,d4,Nd5,Nxd5,exd5,Bxg4,hxg6,fxg6,Qc4,Rac8,Qb3,Bf5,d6+,Kh8,Bc4,Bxc2+,Kxc2,b5,Rdf1,Qe4+,Kc1,Rxc4+,Kd1,Qb1+,Ke2,Rc2+,Kd3,e4+,Kxd4,Rc4+', 'Qxc4,Qxb2+,Qc3,Qxc3+,Kxc3', 'https://lichess.org/training/EZauN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EzbLp', 'Blitz', 'pikatxu', 1829, 'pelanaranjas', 1858, 'e4,c5,c3,e6,d4,cxd4,cxd4,d5,Nc3,Bb4,exd5,Nf6,dxe6,Bxe6,Nf3,O-O,Be2,Ne4,Bd2,Nxd2,Qxd2,Nc6,O-O,Qf6,Rad1,Rad8,a3,Ba5,b4,Bc7,d5,Bg4,Qc2,Bxf3,Bxf3,Nd4,Qd3,Qf4,Rfe1', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/EzbLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EZbXI', 'Rapid', 'marketman', 1732, 'Dindo196884', 1697, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,O-O,e4,d6,Bc4,a6,O-O,b5,Bd3,Bb7,Re1,Nbd7,c3,c5,Qc2,Rc8,d5,Nh5,c4,b4,Rad1,a5,h3,Ne5,Nxe5,Bxe5,Nf3,Bg7,e5,dxe5,Nxe5,Qd6,Ng4,Rc7,Bxe7', 'Rxe7,Rxe7,Qxe7', 'https://lichess.org/training/EZbXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZcao', 'Rapid', 'trickster77', 2103, 'essam100', 2175, 'c4,Nf6,Nc3,e6,e4,c5,e5,Ng8,Nf3,Nc6,g3,a6,Bg2,Qc7,Qe2,Nb4,O-O,Ne7,d4,cxd4,Nxd4,Ng6,Re1,Bc5,Nf3,Rb8,a3,Nc6,b4,Bd4,Nxd4,Nxd4,Qd3,Nb3,Ne4,Nxa1,Nd6+,Kf8,Bb2,Nc2,Qxc2,b5,c5,Bb7,Bxb7,Rxb7,Qe4,Rb8,Qf3,Ke7,Qxf7+,Kd8,Qxg7,Rf8,Qxh7,Ne7,Qg7,Rg8,Qf6,Qc6,Nf7+,Ke8,Nh6,Rf8,Qh4,Qf3,Rf1,Nd5,Qd4,Rf4,gxf4', 'Nxf4,Qxf4,Qxf4', 'https://lichess.org/training/eZcao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ezfL6', 'Blitz', 'arstelli', 2197, 'SqueezeU', 2161, 'Nc3,Nf6,e4,e5,f4,Nc6,fxe5,Nxe5,Nf3,Nxf3+,Qxf3,Bc5,Bc4,O-O,d3,d6,Bg5,Be6,Bb3,Bd4,O-O-O,h6,Bh4,g5,Bg3,Bg4,Qf1,Bxd1,Qxd1,Bxc3,bxc3,Qe7,h4,Nd7,hxg5,Qxg5+,Bf4,Qxf4+,Kb2,Ne5,g3,Qg5,Rh5,Qg4,Qh1,c5,Rxh6,c4', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/ezfL6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EzfoA', 'Rapid', 'Lvtungk44gb1', 1614, 'Giorgi-babunadze-1', 1686, 'e4,f6,Nc3,e6,f4,d5,f5,dxe4,Nxe4,exf5,Qe2,Be6,Nc3,Qd7,d3,Nc6,Bf4,O-O-O,Nb5,Nd4,Nxd4,Bf7,c3,Re8,Be3,f4,O-O-O,Bh5,Qxh5,fxe3,g3,g6,Qh4,Bh6,Kc2,Bg5,Qh3,f5,Be2,Qa4+,Kb1,Nf6,Nxf5,gxf5,Qxf5+,Qd7,Qxg5,Rhf8,h3,Kb8,Nf3,Nd5,Ne5,Qb5,Kc2,Rxe5,Qxe5', 'Nb4+,cxb4,Qxe5', 'https://lichess.org/training/EzfoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZFxK', 'Rapid', 'shinjini_WB', 1726, 'Pierrov36', 1712, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Bd2,Qxb2,Nc3,Bb4,Qc1', 'Bxc3,Qxb2,Bxb2', 'https://lichess.org/training/eZFxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZgqJ', 'Classical', 'Weerasekara', 2051, 'smv123', 2256, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Qc7,Nd2,Nf6,c3,a6,f4,Nxd4,cxd4,Bb4,Bd3,d5', 'Qa4+,Qc6,Qxb4', 'https://lichess.org/training/eZgqJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EzHZt', 'Classical', 'CauchyLipschitz', 2032, 'ShallowJR', 2259, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,O-O,Be7,Kh1,d5,exd5,Nxd5,Nxd5,Qxd5,Qxd5,Bxd5,c4,Be6,Be3,Nc6,Nc5,Bc8,Rad1,f5,f4,e4,Na4,Be6,Nb6,Rd8,Nd5,Bd6,Bb6,Rd7,Bh5+,Bf7,Nc7+', 'Bxc7,Rxd7,Kxd7', 'https://lichess.org/training/EzHZt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EZI4X', 'Rapid', 'JulianPe45', 2050, 'jessehf', 2120, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bd6,d4,Nf6,O-O,O-O,Re1,h6,Nh4,Re8,Nf5,Bf8,Qf3,exd4,Qg3,Nxe4,Qg6,d5', 'Nxh6+,Kh8,Nxf7+', 'https://lichess.org/training/EZI4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZi6z', 'Rapid', 'fanDoo', 1658, 'Paulcent7', 1649, 'e4,e5,Nc3,c6,f4,exf4,Nf3,g5,Bc4,Qf6,d3,Bb4,Bd2,d6,Qe2,Bg4,O-O-O,a5,a3,Bc5,h3,Bxf3,Qxf3,b5,Bb3,Nd7,Rde1,Ne5,Qf1,a4,Ba2,b4,axb4,Bxb4,g3,f3,Qf2,a3,b3,Nxd3+,cxd3,Bxc3,Rhf1,Bb2+,Kb1,Ba1', 'e5,Bxe5,d4,Qg6+,Kc1', 'https://lichess.org/training/eZi6z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZiku', 'Blitz', 'evgenhard', 1656, 'zowzow00001', 1641, 'e4,e5,f4,d5,fxe5,dxe4,g3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Qe2,e3,Nf3,exd2+,Bxd2,Bc5,Bg5,Be7,Nc3,Bxg5,e6,Be7,exf7+,Kxf7,Ne5+,Ke8,Rf1,Nf6,Rxf6,gxf6', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/eZiku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZJ7k', 'Rapid', 'majid_king', 1984, 'Kunal20200701', 1966, 'd4,d5,f4,Bf5,Nf3,e6,e3,h6,Bd3,Bxd3,Qxd3,Nf6,c3,Nbd7,O-O,Be7,Nbd2,O-O,Ne5,c5,Qe2,Ne4,Nxe4,dxe4,Ng4,cxd4,exd4,Qb6,Qxe4', 'f5,Qe2,fxg4', 'https://lichess.org/training/eZJ7k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EZkD9', 'Blitz', 'Kurtovk', 1983, 'opel09', 2018, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Bd3,Be7,O-O,O-O,c3,b6,Bf4,Bb7,Ne5,c5,dxc5,bxc5,Qc2,Qc8,Rad1,Rd8,h3,h6,Rfe1,Nh5,Bh2,Bd6,Re3,Qc7,Rde1,f6,Nf3,Bxh2+,Nxh2,e5,Bh7+,Kh8,Qg6,Nf4,Qf5,Nxg2,Rg3,Nxe1,Ng4,Rd1,Nxh6,gxh6,Qxf6+,Kxh7,Qg6+,Kh8,Qxh6+,Qh7', 'Qf6+,Qg7,Qxg7#', 'https://lichess.org/training/EZkD9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZM3z', 'Rapid', 'JimmyHero', 1738, 'Belov25', 1772, 'e4,e5,Nf3,d6,Bc4,Be7,d3,Nf6,Bg5,O-O,Nbd2,h6,Bh4,c6,c3,b5,Bb3,a5,a4,b4,cxb4,axb4,O-O,c5,Nc4,Nc6,h3,Be6,Bc2,Nd4,Nxd4,exd4,b3,Bxc4,Bxf6,Bxf6,bxc4,g5,f4,gxf4,Rxf4,Bg5,Rg4,h5,Rg3,h4,Rg4,Kh7,Qf3,Qe7,Qf5+,Kh6,Rf1,f6,Bd1,Qe5,Qd7,Rad8,Qb7,Rg8,Rf5,Qe6,Rxh4+,Bxh4', 'Rh5+,Kg6,Qh7#', 'https://lichess.org/training/eZM3z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EzmI7', 'Rapid', 'Franshtein', 1683, 'mannooo', 1815, 'd4,d5,c4,Nf6,Nc3,dxc4,e3,Bg4,Nf3,Nc6,Bxc4,e6,Qb3,Rb8,Be2,Bb4,Bd2,O-O,O-O,Bd6,a4,a6,a5,Ne7,Qd1,Ng6,h3,Bf5,Ne1,c5,Nc2,Bc7,dxc5,Bxa5,Nd4,Rc8,Nxf5,exf5,Nd5,Bxd2,Nxf6+,Qxf6,Qxd2,Rxc5,Rfc1,Rd8,Qb4,Rcd5,Qxb7,Rd2,Rxa6,Qh4,Re1,f4,Ra7,Qf6,Bc4,Ne5,Ba2,fxe3,Rxe3,Qxf2+,Kh2,Qf4+,Rg3,Rxg2+,Kxg2', 'Rd2+,Kh1,Qf1+,Rg1,Qxh3#', 'https://lichess.org/training/EzmI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZN1h', 'Blitz', 'ISibilev', 2334, 'FM PJatoba', 2407, 'Nc3,e5,e4,Nf6,f4,d5,fxe5,Nxe4,Nf3,Bg4,d3,Nxc3,bxc3,c5,Be2,Nc6,Bf4,Be7,O-O,O-O,Rb1,Qd7,h3,Bh5,Nd4,Bxe2,Nxe2,f6,e6,Qc8,Ng3,b6,Re1,Re8,Qf3,d4,Nf5,g6,Nxe7+,Rxe7,Bd6,Rxe6,Rxe6,Qxe6,Qxc6,Rd8,cxd4,cxd4,Qb7,Rxd6,Qxa7,Qe3+,Kh1,Re6,a4,h5,a5,bxa5,Rb8+,Re8,Rxe8+,Qxe8,Qxd4', 'Qe1+,Kh2,Qe5+,Qxe5,fxe5', 'https://lichess.org/training/eZN1h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EZo8J', 'Rapid', 'morerice', 2140, 'TheYoungCub', 2144, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nc3,Bd6,Bg5,c6,Qd2,Qc7,Bxf6,gxf6,g3,Be6,O-O-O,Nd7,Qh6,O-O-O,h4,f5,Nh3,c5,dxc5,Bxc5,Nf4,Bf8,Qh5,Nf6,Qf3,Ne4,Nb5,Qb6,Bxe4,fxe4,Qc3+,Kb8,Qxh8,Qxb5,Nxe6', 'Bh6+,Kb1,Rxh8', 'https://lichess.org/training/EZo8J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ezOVI', 'Rapid', 'alkannn', 1838, 'Demasee', 1790, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,c5,Qd5,Nf6,Qc4,d5,exd5,Nxd5,Qe4+,Be7,Bc4,Be6,O-O,Nf6,Qd3,Bxc4,Qxc4,O-O,Bg5,h6,Bh4,b6,Nc3,Re8,Rad1,Qc8,Rfe1,a6,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/ezOVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EZPAC', 'Rapid', 'satranco', 1992, 'Simosq', 2002, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bg5,g6,Nc3,Bg7,Bd3,O-O,Qd2,Nc6,Bh6,Ne4,Nxe4,dxe4,Bxe4,Nxd4,Bxg7,Nxf3+,Bxf3,Qxd2+,Kxd2,Kxg7,Rad1,e5,Kc1,f5,g3,e4,Be2,Be6,Rd6,Kf7,Rhd1,Ke7,b3,Rfd8,Rxd8,Rxd8,Rxd8,Kxd8,f3,Bd5,fxe4,Bxe4,g4,Ke7,gxf5,Bxf5,Bd3,Kf6,Kd2,Ke5,Ke3,Bxd3,cxd3,g5,Kf3,h5,Ke3,Kd5,d4,b5,b4,a6,a3,Kd6,Ke4,Ke6,d5+,Kd6', 'Kf5,g4,Kg5,Kxd5,Kxh5,g3,hxg3', 'https://lichess.org/training/EZPAC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ezpOp', 'Blitz', 'gotchess23', 2038, 'WFM Lubov_Gordyk', 1973, 'e4,Nf6,d4,Nxe4,Nf3,Nf6,Bd3,g6,c3,Bg7,O-O,O-O,Re1,d6,Be3,Bg4,Nbd2,Nbd7,Be2,c6,Nf1,e5,h3,Bxf3,Bxf3,e4,Be2,d5,Ng3,Qe7,Qd2,Rfe8,Bh6,Nf8,Bxg7,Kxg7,Rf1,Ne6,Rfe1,h5,Bf1,h4,Ne2,Qd6,Rab1,Nh5,f3,f5,fxe4,fxe4,Qe3,Rf8,b4,Nef4,Nxf4,Rxf4,Be2,Ng3,Bg4,Raf8,a4,Qf6,Be2,Rf2,b5,Rxe2,Rxe2,Qf1+,Rxf1', 'Rxf1+,Kh2,Rh1#', 'https://lichess.org/training/ezpOp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EzSdb', 'Rapid', 'jero2013', 2056, 'Javier-M', 2086, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Bb5+,Nd7,Nf3,Nf6,Nc3,Be7,Bf4,a6,Be2,Qc7,O-O,b5,Re1,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Qxe5,Bf3,Qb8,Bxa8,Rd8,Nd5,Nxd5,Bxd5,Be6,Rxe6,fxe6,Bxe6+,Kh8,Qh5,g6,Qe2,Bf6,c3,Re8,Re1,Qb6,Qe3,Qd6,a3,a5,Qe2,b4,axb4,axb4,cxb4,cxb4,g3,Kg7,h3,Bd4,Kh2,Bxf2,Qxf2,Rxe6,b3,Rf6,Qa7+,Rf7,Qa1+,Rf6,Rd1,Qc5', 'Rd7+,Kg8,Qxf6', 'https://lichess.org/training/EzSdb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EZTbX', 'Rapid', 'framemery2', 1611, 'Nada952', 1648, 'e4,e5,g3,d5,exd5,Qxd5,Qf3,Qxf3,Nxf3,Bd6,d3,Bf5,Bg2,e4,dxe4,Bxe4,O-O,Ne7,Nc3,Bc6,Bg5,f6,Be3,O-O,Rfe1,Nf5,Nd4,Nxd4,Bxd4,Bxg2,Kxg2,Nc6,Be3,Be5,Rab1,Bxc3,bxc3,b6,c4,Ne5,c5,Nc4,cxb6,Nxe3+,Rxe3,cxb6,Re7,Rf7,Rxf7,Kxf7,Rd1,Re8,Rd7+,Re7,Rxe7+,Kxe7,Kf3,Ke6,Ke4,f5+,Kd4,g5,c4,f4,g4,Kd6,a4,a5,f3,h6,h3,Kc6,Kc3', 'Kc5,Kd3,Kb4', 'https://lichess.org/training/EZTbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZTli', 'Rapid', 'virgiliodiniz', 1968, 'StealthBishop', 1987, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Bd3,c6,Nc3,Bg4,Nge2,Be7,f3,Be6,c5,O-O,O-O,a5,Qc2,b6,cxb6,Qxb6,Bg5,h6,Be3,Nbd7,Rad1,c5,dxc5,Bxc5,Bxc5,Qxc5+,Kh1,Ne5,Ng3,Nxd3,Qxd3,Rab8,Rd2,d4,Nce4,Nxe4,Nxe4,Qb4,a3,Qa4,Qxd4,Qxd4,Rxd4,Rxb2,Rfd1,a4,Nc5,Bb3,Nxb3,axb3,h3,Rc8,R4d2,Rcc2,Rxc2', 'bxc2,Rd8+,Kh7,Rc8,Rb1+', 'https://lichess.org/training/eZTli');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZTZL', 'Rapid', 'arthurcervania13', 1807, 'Robyarchitetto', 1780, 'e4,Nc6,Nf3,d6,Bb5,Bd7,d4,e5,Bxc6,bxc6,d5,c5,c3,h6,h3,Nf6,Qd3,c6,O-O,cxd5,exd5,Bc8,Re1,Be7,Nbd2,Bb7,c4,O-O,Ne4,Nxe4,Qxe4,f5,Qc2,e4,Nh2,Bf6,Bf4,Bg5,Bxg5,Qxg5,f3,exf3,Nxf3,Qg3,Rf1,Rf6,Rae1,Raf8,Qe2,Bc8,Qe7,f4,Re4,Rg6,Nh4,Bxh3,Rexf4,Rxf4,Rxf4,Qxf4,Nxg6,Qc1+,Kh2,Bf5', 'Qf8+,Kh7,Qxf5', 'https://lichess.org/training/eZTZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ezU0Q', 'Rapid', 'dedetuyy', 1886, 'Kospersky', 1678, 'e4,c6,d4,d5,e5,c5,f4,e6,Nf3,Nh6,c3,Nc6,Bb5,Bd7,O-O,cxd4,cxd4,Be7,Nc3,Nf5,g4,Nh4,Qd3,Nxf3+,Rxf3,Qb6,Bxc6,Bxc6,f5,exf5,Qxf5,O-O,Rh3,g6,Qd3,Rad8,Bh6,Rfe8,b3,a6,Rf1,Bb5,Nxb5,Qxb5,Qf3,Rf8,Bxf8,Rxf8,Rc1,Qb6,Rd1,Qc6,Qc3,Qd7,Qf3,Qc7,Rh6,Qc2,Rd3', 'Qc1+,Rd1,Qxh6', 'https://lichess.org/training/ezU0Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EZWR6', 'Rapid', 'IM halfnatty', 2633, 'TheCombinator', 2224, 'd4,Nf6,Bg5,Ne4,Bf4,d5,e3,c5,Bd3,Nf6,c3,cxd4,exd4,Nc6,Nd2,g6,h3,Bg7,Ngf3,O-O,O-O,Re8,Re1,a6,Ne5,Nxe5,Bxe5,b5,a4,Bd7,axb5,Bxb5,Bxb5,axb5,Qe2,Qb6,b4,Rec8,Nb3,Ne4,Rxa8,Rxa8,Bxg7,Kxg7,Nc5,Nxc3,Qxe7,Qf6', 'Ne6+,Qxe6,Rxe6', 'https://lichess.org/training/EZWR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('EZwyS', 'Blitz', 'peinardosse', 1804, 'talltree', 1655, 'c4,f5,d4,e6,e3,Nf6,Bd3,Be7,f4,O-O,Nf3,d6,O-O,Qe8,Nc3,Nbd7,b4,Bd8,Bb2,e5,dxe5,dxe5,Bxf5,exf4,exf4,Qe3+,Kh1,Qxf4,Be6+,Kh8,Nd5,Qxc4,Bxd7,Bxd7,Nxf6,Bxf6,Qxd7,Bxb2,Rab1,Bf6,a3,Rad8,Qh3,Qd3,Rbd1,Qxa3,Rxd8,Rxd8,Qh5,Qxb4,Ng5,Bxg5,Qxg5,Qd2,Qf5,Kg8', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/EZwyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZyax', 'Rapid', 'monoloco88', 1742, 'prentice_sloth', 1768, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Bxc6,bxc6,d3,d6,h3,g6,Be3,Bg7,c3,O-O,O-O,d5,e5,Nd7,Bf4,Qc7,Re1,h6,Bg3,e6,Nbd2,Qb6,Rb1,f6,exf6,Nxf6,Nb3,Rd8,Qe2,Bd7,Ne5,Kh7,Nxd7,Rxd7,Qxe6,Re8,Qxd7', 'Rxe1+,Rxe1,Nxd7', 'https://lichess.org/training/eZyax');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('eZZLF', 'Blitz', 'NM Andnar', 2297, 'topce', 2380, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,d3,d6,c3,O-O,Re1,Ne7,d4,exd4,cxd4,Bb6,Nc3,c6,Be2,Ng6,h3,h6,a4,a5,Be3,Re8,Qb3,Nxe4,Nxe4,Rxe4,Bd3,Re6,d5,Rxe3,fxe3,Nf8,dxc6,bxc6,Nd4,Bd7,Rac1,Rb8,Qc3,c5,Nb5,Bxb5,Bxb5,d5,Qe5,Ne6,Rcd1,d4,exd4,cxd4,Bc4,d3+,Kh1,d2,Bxe6,dxe1=Q+,Qxe1,Qf6,Bg4,Rd8,Rxd8+,Qxd8,Qc3,Bc7,b3,Qd6,Kg1,g6,Bf3,h5,Qc6,Qh2+,Kf1,Qg3,Ke2,Kg7,Qc3+,Be5,Qxa5,Qf4,Qd2,Qf6,b4,Bc3,Qd3,Bxb4,Qb5,Qc3,Qd3', 'Qe1#', 'https://lichess.org/training/eZZLF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ezzp3', 'Rapid', 'theatrocious2014', 1853, 'Fadl', 1984, 'd4,d5,Nd2,Nc6,Ngf3,Nf6,e3,Bg4,c4,e5,cxd5,Qxd5,Bc4,Qd7,dxe5,Nxe5', 'Nxe5,Bxd1,Nxd7,Nxd7,Kxd1', 'https://lichess.org/training/ezzp3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ezzrt', 'Rapid', 'CigarMan', 1917, 'RicoNL', 1955, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,g6,Nf3,Bg7,a3,e6,Bd3,Nge7,Bc2,O-O,O-O,d5,e5,f6,exf6,Bxf6,Re1,Nf5,Be3,Nxe3,fxe3,e5,dxe5,Nxe5,Nxe5,Bxe5,Nc3,Qc7,Qxd5+,Kh8,h3,Bd7,Rac1,Bc6,Qc4', 'Bh2+,Kh1,Bxg2+', 'https://lichess.org/training/ezzrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ezZXr', 'Rapid', 'viogar', 1943, 'br12', 1902, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,O-O,e4,c6,d3,d5,cxd5,cxd5,Nxd5,Nxd5,exd5,e5,dxe6,fxe6,Be3,Bxb2,Rb1,Bc3+,Kf1,Bd4,Ne2,Bxe3,f4,Nc6,Be4,Nd4,Qa4,Nxe2,Kxe2,Bd4,Rb4,Bg7,Rc1,Rb8,Qxa7,Bd7,Rxb7,Rxb7,Qxb7,e5,Rc7,Rf7', 'Bd5,Kh8,Bxf7', 'https://lichess.org/training/ezZXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F027X', 'Classical', 'Nilddo', 1598, 'Rastoin1942', 1536, 'd4,d5,c4,Bf5,Nc3,e6,Nf3,dxc4,Qa4+,Nc6,Qxc4,Bd6,d5,exd5,Nxd5,Nb4,Nxb4,Bxb4+,Qxb4,Ne7,e4,Be6,Ng5,Nc6,Qc3,O-O,b4,h6,Bb2,Qxg5,b5,Ne5,Bc1,Qg6,Qxe5,Rad8,Bb2,Rd6,Rd1,Rfd8,Be2,Qxg2,Rf1', 'Rxd1+,Bxd1,Rxd1+,Kxd1,Qxf1+', 'https://lichess.org/training/F027X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F08OM', 'Rapid', 'Restructur_required', 1725, 'vasilij_habs', 1613, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,c5,Re1+,Be6,dxc5,Bxc5,Qd3,Nf6,Nc3,O-O,Be3,Bxe3,Rxe3,c5,Rxe6,fxe6,Ng5,Qe7,Re1,Qb7,b3,d4,Rxe6,dxc3,Rxf6,Rxf6', 'Qxh7+,Kf8,Qh8+,Ke7,Qxg7+', 'https://lichess.org/training/F08OM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F09Nn', 'Blitz', 'Isikong', 1973, 'FernandoMorAZ', 2001, 'd4,d5,Nc3,Nf6,Bf4,e6,e3,Bd6,Bg3,O-O,Bd3,c5,dxc5,Bxc5,Nf3,Nc6,e4,dxe4,Nxe4,Nxe4,Bxe4,Qa5+,c3,Rd8,Qc2,f5,Bxc6,bxc6,O-O,Ba6,Rfe1,Bd3,Qb3,Re8,Rxe6,Rxe6,Qxe6+,Kh8,Re1,Be4,Ng5,Bd5,Qe8+,Rxe8', 'Rxe8+,Bf8,Rxf8+,Bg8,Nf7#', 'https://lichess.org/training/F09Nn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f0a3O', 'Rapid', 'lawreand', 1894, 'TMerton', 1921, 'e4,c5,Nf3,e6,Bc4,a6,c3,b5,Bb3,Bb7,Bc2,d5,exd5,Qxd5,O-O,Nf6,Re1,Be7,d4,cxd4,Qxd4,O-O,Bg5,Nc6,Qxd5,Nxd5,Nbd2,Rac8,Rad1,Bf6,Ne4,Bxg5,Nexg5,h6,Ne4,Rfd8,Rd3,Ncb4,Rd2,Nxc2,Rxc2,Nf4,g3,Nh3+,Kg2,Ng5,Nfxg5,hxg5,f3,f6,Kf2,e5,g4,Rd3,Rd2', 'Bxe4,Rxd3,Bxd3', 'https://lichess.org/training/f0a3O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f0Aii', 'Rapid', 'Aleksey_Grigorev', 1794, 'GRT', 1753, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,b5,f3,Bb7,Qd2,e6,O-O-O,Nc6,g4,Be7,h4,Nd7,g5,Nde5,Be2,Qc7,f4,Nxd4,Bxd4,Nc4,Bxc4,Qxc4,Bxg7,Rg8,Bf6,b4,Ne2,Bxe4,Bxe7,Bxh1,Qxd6,Rc8', 'Qd7#', 'https://lichess.org/training/f0Aii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F0bZu', 'Rapid', 'pebraham', 1887, 'JumpingCastle777', 1932, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Nc6,Be3,Be7,Be2,O-O,O-O,Be6,Qe1,Bxb3,axb3,Nb4,Bd3,Nxd3,cxd3,d5,Na4,d4,Bg5,Qd6,Bxf6,Bxf6,b4,b6,b3,Be7,Nb2,b5,Qg3,f6,f4,Qxb4,fxe5,Qxb3,exf6,Bxf6,Rab1,Qe6,Nd1,Be5,Qg5,Bxh2+,Kxh2,Rxf1,Rc1,Qf6', 'Qd5+,Kf8,Qxa8+', 'https://lichess.org/training/F0bZu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F0dVd', 'Rapid', 'seanolo', 1793, 'strannik79', 1872, 'e4,c6,d4,d5,e5,c5,c3,Nc6,f4,Bf5,Bb5,e6,Nf3,Bxb1,Rxb1,cxd4,cxd4', 'Qa5+,Kf2,Qxb5', 'https://lichess.org/training/F0dVd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F0dwL', 'Blitz', 'RStaut', 1904, 'Greminja', 1916, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nf3,g6,Bg5,Be7,Bxe7,Qxe7+,Be2,O-O,O-O,Bg4,b3,Nc6,Nc3,Rae8,h3,Bxf3,Bxf3,Qf6,Bxc6,bxc6,Ne2,Re4,c5,Nd5,cxd6,cxd6,Rc1,Rfe8,Re1,Nf4,Rc2,Qg5,g3,Nxh3+,Kg2,Nf4+,Nxf4,Rxe1,Qf3,Qh6,Nh3,Rh1,Kxh1', 'Qxh3+,Kg1,Re1#', 'https://lichess.org/training/F0dwL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F0EvA', 'Classical', 'azanniahmad', 1645, 'MightyHades', 1759, 'd4,Nf6,Bg5,e6,e3,d5,Qd2,Nc6,c3,Bd6,Nf3,O-O,Bd3,e5,Bb5,Bg4,Bxf6,Qxf6,Bxc6,Bxf3,dxe5,Qg5,Bxd5,Qxg2,Bxf3,Qxf3,Rg1,Bxe5,Qe2,Qxe2+,Kxe2,Bxh2,Rh1,Bd6,Nd2,Rfe8,Rh5,g6,Rh6,Bf4,Rh3,Be5,Rah1,h5,Nf3,Bf4,Rg1,a5,Rxh5,Kf8,Rh7,b5,Rgh1,Be5', 'Nxe5,Rxe5,Rh8+,Ke7,Rxa8', 'https://lichess.org/training/F0EvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f0FfM', 'Rapid', 'Lukasz1928', 1608, 'Vitadentalik', 1647, 'e4,e5,Nf3,Qf6,Nc3,c6,Bc4,Bc5,O-O,d6,a3,Bg4,Be2,a6,h3,Bxf3,Bxf3,Ne7,d3,Ng6,Na4,Ba7,Re1,b5,Nc3,Nh4,Bg4', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/f0FfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F0hAe', 'Rapid', 'JuanSandia', 1731, 'alps84', 1724, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Nd7,O-O,c5,c3,f6,Bf4,fxe5,Nxe5,Ngf6,Nd2,c4,Qf3,Be7,Rfe1,O-O,Nxd7,Qxd7,Qe3,Rae8,Qxe6+,Qxe6,Rxe6,Nh5,Be3,Bf6,Rd6,Be7,Rxd5,Nf6,Rb5,b6,Nxc4,Ne4,Ne5,Bf6,Nd7,Rf7,Nxf6+,Rxf6,Rd5,Ref8,Rf1,Nd6,Bg5,Re6,Be3,Nc4,Rd7,a5,Bc1,Re2,b3,Nd2,Bxd2,Rxd2,Rd6,Rxa2,Rxb6,Rb2,c4,Ra8,Ra1,a4,c5,a3,c6', 'a2,h4,Rb1+,Kh2,Rxa1', 'https://lichess.org/training/F0hAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F0kfl', 'Rapid', 'ChessPro2Og', 1966, 'Dreffo', 1949, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,d6,Nxd4,Bd7,Re1,Be7,Nxc6,Bxc6,Nc3,O-O,Bf4,a6,a3,Re8,Bg5,h6,Bxf6,Bxf6,Qh5,Qd7,Nd5,Bxd5,Bxd5,Bxb2,Rad1,Rab8,c4,Re5,Qf3,c6,Qb3,cxd5,Qxb2,dxc4', 'Qxe5,dxe5,Rxd7', 'https://lichess.org/training/F0kfl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f0md3', 'Rapid', 'skelout', 1844, 'vashevelichesstvo', 1877, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,Be6,Qf3,c6,Nge2,Qd6,d3,Nd7,Ne4,Qe5,O-O,h6,Bd2,g5,Rfe1,Qg7,Bb3,g4,Qg3,h5,Bxd5,cxd5,Ng5,Bf5,Qf4,Bg6,Bc3,e5,Ng3,Be7,Rxe5,Nxe5,Bxe5,Bxg5,Qa4+,Kf8,Bxg7+,Kxg7,Re1,Bf6,h3,h4,Ne2,gxh3,gxh3,Rhe8,Qg4,Re5,f4,Re3,f5,Rae8,fxg6,fxg6,Kf2,R3e5,Rg1,Rxe2+,Qxe2', 'Bd4+,Kf1,Rxe2', 'https://lichess.org/training/f0md3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F0mO8', 'Rapid', 'Ginaston1000', 1934, 'IJacob', 1988, 'e4,e6,Nf3,d5,Nc3,Nf6,e5,Nfd7,a3,a6,d4,c5,b4,cxb4,Ne2,Nc6,h4,bxa3,c3,b5,Bxa3,Bxa3,Rxa3,Qe7,Ra1,Bb7,Rh3,Nb6,Nf4,Nc4,Rg3,g6,Bd3,a5,h5,a4,Ke2,N6a5,hxg6,hxg6,Bxg6,Rg8,Qc2,fxg6,Ng5,Bc8,Nxg6,Qg7,Nf4,Qh6,Nh7,Rxg3,Nf6+,Ke7,fxg3,Nb3', 'Ng8+,Kd7,Nxh6', 'https://lichess.org/training/F0mO8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F0MWd', 'Blitz', 'eheheheheani', 1985, 'titaut', 1977, 'e4,e5,Nf3,Nf6,d3,Bc5,Be2,Nc6,O-O,O-O,c3,d6,h3,h6,b4,Bb6,a4,a6,Na3,Bd7,Bb2,Qc8,Qd2,Bxh3,gxh3,Qxh3,Nh2,Nh5,Bf3,Nf4,Kh1,f5,Rg1,Ne7,Rg3,Qh4,Nc4,Kh7,Nxb6,cxb6,exf5,Nxf5,Be4,g6,Bxf5,Rxf5,Rag1', 'Qxh2+,Kxh2,Rh5+,Rh3,Rxh3#', 'https://lichess.org/training/F0MWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F0OU4', 'Rapid', 'lapicosa', 1833, 'kvarel', 1863, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Bd6,d4,exd4,Qxd4,Nf6,e5,c5,Qh4,Qe7,O-O,g5,Qxg5,Rg8,Qxf6,Qxf6,exf6,Bxh3,g3,Bxf1,Kxf1,O-O-O,Nh4', 'Bxg3,fxg3,Rd1+,Kf2,Rxc1', 'https://lichess.org/training/F0OU4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F0oxJ', 'Blitz', 'Dr_aminsaid', 1624, 'windowcleaner', 1633, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,d4,exd4,Nxd4,Qd7,Nc3,Nc6,O-O,O-O-O,a4,e5,Ndb5,a6,Na3,Be7,Be3,Nf6,b3,Ng4,Nc4,Nxe3,fxe3,Rhf8,Nd5,Rxf1+,Qxf1,Rf8,Qe2,Bh4,g3,Bg5,b4,g6,b5,Ne7,bxa6,bxa6,Ndb6+,cxb6,Nxb6+,Kc7,Nxd7,Kxd7,Qxa6,Bxe3+,Kg2,Rf2+,Kh3,h5,Rd1,Bc5,Qb7+,Ke6,a5,g5,a6', 'g4+,Kh4,Rxh2+,Kg5,Be3#', 'https://lichess.org/training/F0oxJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F0PEI', 'Rapid', 'rijuvgeorge', 1740, 'CHESSticles69', 1720, 'e4,d6,Qf3,Nf6,h3,g6,Bc4,Bg7,g4,c6,g5,d5,exd5,Nxd5,Nc3,Be6,Bxd5,Bxd5,Nxd5,Qxd5,Qg4,Nd7,Nf3,O-O-O,O-O,h5,Qg3,Be5,Nxe5,Nxe5,f4,h4,Qe3,Ng4,hxg4,h3,Rf2', 'h2+,Rxh2,Rxh2,Kxh2,Rh8+', 'https://lichess.org/training/F0PEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f0rg8', 'Rapid', 'rkmusic', 1655, 'Cheke23', 1618, 'e4,c5,Bc4,e6,Nf3,Nc6,Nc3,Nf6,d3,a6,Bg5,Be7,O-O,O-O,a3,b5,Ba2,Bb7,b4,cxb4,axb4,Nxb4,Bb3,h6,Bd2,d5,exd5,Nfxd5,Bxd5,Nxd5,Re1,b4,Nxd5,Bxd5,c3,a5,cxb4,Bxb4,Bxb4,axb4,Rb1,Qb6,Ne5,b3,Nd7,Qb7,Nxf8,Rxf8,f3,Rb8,d4,b2,Re2,Bxf3,gxf3,Qxf3,Rexb2', 'Qxd1+,Rxd1,Rxb2', 'https://lichess.org/training/f0rg8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f0wpZ', 'Blitz', 'hasta46', 1860, 'Bust_do_2k', 1839, 'd4,d5,e3,Bf5,Nf3,Nc6,Bd3,Bg6,Bxg6,hxg6,h3,Nf6,O-O,e6,Ne5,Nxe5,dxe5,Ng4,Qxg4,c5,Nc3,Rh4,Qg3,Be7,f4,g5,Ne2,gxf4,exf4,c4,Qxg7,Qb6+,Kh1,O-O-O,Qxf7,Bc5,Nc3,Qa6,a3,Rdh8,f5,exf5,Qxf5+,Kb8,Nxd5,c3,b3,R4h5,Qf6,Qe2,Nxc3', 'Rxh3+,gxh3,Rxh3#', 'https://lichess.org/training/f0wpZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f0YKP', 'Rapid', 'zlmacel', 1766, 'vinilmendes', 1801, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,h6,d4,exd4,Nxd4,d6,O-O,Be7,f4,O-O,Nxc6,bxc6,e5,dxe5,fxe5,Nh7,Qf3', 'Qd4+,Qe3,Qxc4', 'https://lichess.org/training/f0YKP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f0ZHz', 'Rapid', 'grandaddypurp', 1780, 'TheOneMillion', 1742, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qa4,e5,Bb5,Nge7,Nf3,d6,Bxc6+,Nxc6,Be3,a6,Nc3,b5,Nxb5,Bb7,Nc3,Be7,Nd5,O-O,Bb6,Qd7,Rd1,Qg4,O-O,Nd4,Nxe7+,Kh8,Bxd4,exd4,h3,Qxe4,Rfe1,Qf4,Rxd4,Qf6,Nc6,d5,Nce5,Rfe8,Nd7,Rxe1+,Nxe1,Qe6,Nf3,Bc6,Qb4,Qxd7,Ne5,Qe6,f4,f6,Nxc6,Qxc6,c3,Qe6,c4', 'Qe3+,Kh2,Qxd4', 'https://lichess.org/training/f0ZHz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F105K', 'Blitz', 'Bridges61', 1882, 'mvoll007', 1707, 'Nf3,d5,d4,Nc6,Bf4,Bf5,e3,Nf6,Bb5,Bd7,O-O,Ne4,Nbd2,e5,Nxe5', 'Nxe5,Bxd7+,Nxd7,Nxe4,dxe4', 'https://lichess.org/training/F105K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f15hh', 'Rapid', 'autogeekchesser', 1615, 'marcechi', 1624, 'd4,f5,c4,Nf6,Nc3,e6,e3,Bb4,Qb3,a5,a3,Be7,Nf3,d6,Bd3,Bd7,O-O,a4,Qxb7', 'Bc6,Qxa8,Bxa8', 'https://lichess.org/training/f15hh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F15wi', 'Rapid', 'maxsfo', 1639, 'porebskis', 1621, 'e4,c5,Bc4,Nc6,d3,g6,h3,Bg7,Nc3,a6,Nf3,b5,Bb3,b4,Ne2,d6,Ng5,Ne5,Bf4,Nh6,O-O,O-O,c3,a5,cxb4,axb4,Bxe5,Bxe5,Ng3,Bxb2,Rb1,Be5,f4,Bf6,Nf3,Bd7,f5,gxf5,exf5,Nxf5,Nxf5,Bxf5,Nh2,Qc8,Qf3,Bg6,Ng4,Bd4+,Kh1,Bh5', 'Nh6+,Kh8,Qxh5', 'https://lichess.org/training/F15wi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F18HI', 'Blitz', 'ripper85', 1890, 'mattoin7', 1891, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,Be7,O-O,Nf6,d4,cxd4,Nxd4,O-O,Be3,Bd7,Bb3,Nc6,f4,a6,f5,Nxd4,Bxd4,b5,a3,a5,fxe6,Bxe6,Nxb5,Bxb3,cxb3,Nxe4,Qg4,Nf6,Qg3,Qd7,Bxf6,Bxf6,Rxf6,Qxb5,Rxd6,Rae8,Qd3,Qe5,Rd5,Qxb2,Rf1,Re2,Qf3,Rc2', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/F18HI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1A4h', 'Rapid', 'Pat964', 1988, 'gahangirshabani', 1903, 'c4,c5,Nc3,Nc6,g3,e5,Bg2,a6,e3,Nf6,Nge2,d6,O-O,Bg4,h3,Bh5,Qa4,Rc8,d4,Qa5', 'Bxc6+,Rxc6,Qxa5', 'https://lichess.org/training/f1A4h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1A6H', 'Classical', 'sandidusic', 1625, 'dirdibrith91', 1713, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,a6,Ba4,b5,Bb3,Bc5,Re1,O-O,h3,h6,Nc3,b4,Ne2,Bxf2+,Kxf2,Nxe4+,Kg1,d5,d3,Nc5,Bd2,Nxb3,axb3,d4,Ng3,Qd6,Ne4,Qg6,Kh1,f5,Nh4,Qh7,Nc5,g5,Qh5,gxh4,Qxh4,Kg7,Rf1,f4,Ne4,Qg6,c3,Bf5,cxd4,exd4,Rac1,Bxe4,dxe4,Qg5,Qxg5+,hxg5,Rxc6,Rf7,Bxb4,Re8,Re1,f3,gxf3,Rxf3,Rxc7+,Kg6,Rc6+,Kh5,Bd2,Rxh3+,Kg2,Kg4,Rg6,Rg3+,Kf2,Rf3+,Kg2,Rg3+,Kf2,Rf3+,Kg1,Rg3+,Kh1', 'Rh8+,Rh6,Rxh6#', 'https://lichess.org/training/f1A6H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1bgZ', 'Classical', 'Blikk', 1792, 'Noesia_Vl4d1', 1739, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,a3,Nc6,h3,h6,Nf3,Bd6,Bb5,a6,Bxc6+,bxc6,O-O,O-O,b4,a5,Bd2,axb4,axb4,Bf5,Ne2,Qd7,Ne5,Bxe5,dxe5,Ne4,Nf4', 'Rxa1,Qxa1,Nxd2', 'https://lichess.org/training/f1bgZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F1bp8', 'Classical', 'haskelaari', 1746, 'chobo9898', 1770, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,Nc3,Nf6,d4,exd4,Nxd4,c5,Nf3,Bg4,Bg5,h6,Be3,Be7,h3,Bh5,Nd5,Nxd5,Qxd5,O-O,Qxh5,Rb8,b3,Bf6,Rb1,Re8,Nd2,Bc3,O-O,Qf6,Qd5,Re5,Qc4,Rh5,e5,Bxe5,Nf3,Rb4,Qd5', 'Bh2+,Kxh2,Rxd5', 'https://lichess.org/training/F1bp8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1CEo', 'Rapid', 'Kraska', 1701, 'squalltakuya', 1643, 'e4,e5,Nf3,Nc6,g3,d6,d3,Be7,Be3,h6,Nc3,Bg4,Be2,Bxf3,Bxf3,Bg5,Nd5,Nge7,Qd2,Bxe3,Qxe3,Nxd5,exd5,Nb4,Qd2,Na6,O-O,Qg5,Qxg5,hxg5,Bg4,Nc5,b4,Nd7,c4,g6,Bxd7+,Kxd7,Kg2,g4,f3,gxf3+,Rxf3,f5,Raf1,Raf8,h4,Rh7,Rh1,Ke7,Kf2,g5,h5,g4,Re3,f4,gxf4,Rxf4+,Kg3,Rf3+,Rxf3,gxf3,Kxf3,Kf6,Ke4,Ke7,h6,Kf6,c5,Kg5,cxd6,cxd6,d4,exd4,Kxd4,b5,Ke4,Re7+,Kd4,Rh7,Ke4,Rxh6', 'Rxh6,Kxh6,Kf5', 'https://lichess.org/training/f1CEo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F1enD', 'Rapid', 'Naeuioo', 1701, 'Donko64', 1666, 'd4,c6,b3,e6,Bb2,Bb4+,c3,Be7,e3,Nf6,Bd3,O-O,Ne2,d5,O-O,Bd6,c4,Bb4,cxd5,cxd5,Nbc3,Bxc3,Bxc3,a5,a4,Nbd7,Qc2,Re8,Rfe1,Nf8,h4,g6,Ng3,h5,e4,Nxe4,Nxe4,dxe4,Bxe4,Nh7,g3,Nf6,Bf3,Bd7,Rad1,Bc6,Re3,Bxf3,Rxf3,Rc8,Qd2,Ne4,Bxa5', 'Nxd2,Bxd8,Nxf3+', 'https://lichess.org/training/F1enD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1EwV', 'Rapid', 'daropharm', 1648, 'pitrugue', 1643, 'e4,Nf6,e5,Nd5,d4,f6,Bc4,c6,Bd2,fxe5,dxe5,e6,Nc3,Bb4,Qh5+,g6,Qh3,O-O,Nf3,b5,Ng5,Qe7,Be2,Nxc3,bxc3,Bxc3,Bxc3,Qxg5,Qg3,Qxg3,hxg3,c5,O-O-O,b4,Bd2,Bb7,Rh2,Nc6,f4,Nd4,Bd3,Bd5,Rdh1,Rf7,Bxg6,hxg6', 'Rh8+,Kg7,R1h7#', 'https://lichess.org/training/f1EwV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1Gag', 'Rapid', 'ganeshtsk', 1618, 'The_Harrison', 1659, 'g3,c5,Bg2,d5,e3,Nf6,Ne2,e6,d4,Nbd7,dxc5,Bxc5,a3,a5,c3,O-O,b4,axb4,cxb4,Bxb4+,Bd2,Be7,O-O,b6,Nbc3,Bb7,Nb5,Bc6,a4,Nc5,Qc2,Qd7,Ned4,Bxb5,Nxb5,Rfc8,Qd1,Ne8,Bb4,Nc7,Bxc5,Bxc5,Nxc7,Qxc7,Qc2,Ra5,Rfc1,Rca8,Bf1,Qe5,Bd3,Qf6,Bxh7+,Kf8,Bd3,Ke7,Bb5', 'Rxb5,axb5,Rxa1,Rxa1,Qxa1+', 'https://lichess.org/training/f1Gag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F1Gm5', 'Blitz', 'stevil', 1663, 'young_guitarist4', 1657, 'd4,e5,e3,exd4,exd4,Bd6,Be3,Nf6,Nf3,O-O,Bd3,Re8,O-O,Ng4,Bg5,f6,Bd2,Nc6,c3,b6,Bf5,h5,Bg6,Re7,Bxh5,Nh6,Bxh6,gxh6,Nh4,Rg7,Nf5,Rg5,Nxd6,cxd6,Bf3,d5,h4,Rf5,Qd3,d6,Bg4,Rf4,Qg6+,Kf8,Qxh6+,Kf7,Qxf4,Bxg4,Qxg4,Ne7,Qh5+,Ng6,Nd2,Qd7,Qxd5+,Kg7,Qxa8,Qg4,Nf3,Nf4,Qxa7+,Kh6,Ne1', 'Ne2+,Kh1,Qxh4#', 'https://lichess.org/training/F1Gm5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1iGw', 'Blitz', 'IlyaShelkovenko', 1677, 'osteus', 1591, 'e4,e6,f4,d5,exd5,exd5,Nf3,Bd6,d4,Ne7,Nc3,c6,Bd3,Bf5,O-O,O-O,Ne5,Nd7,g4,Bxd3,Qxd3,f6,Nf3,Qc7,Nh4,Rfe8,Be3,Nf8,Rae1,Neg6,Ng2,Re7,g5,fxg5,fxg5,Rae8,Nd1,Bxh2+,Kh1,Qg3,Nf2,Nh4,Nxh4,Qxh4,Qf5,Rxe3,Rxe3,Rxe3,Ng4,Re8', 'Qf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/f1iGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F1j7U', 'Rapid', 'mustdierip', 1888, 'SirSlipsalot', 1869, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,Be3,Bb7,f3,Be7,Qd2,Bh4+,g3,Be7,O-O-O,b4,Nb1,Nf6,Bc4,a5,Bg5,O-O,h4,Nc6,Nb5,d5,Bxf6,Bxf6,exd5,exd5,Bxd5,Qb6,Nd6,Ba6,g4,a4,g5,Be5,Bxc6,Qxc6,f4,a3,fxe5,axb2+,Kxb2,Qa4,Rh3,Bc8,Rb3,Qxa2+,Kc1,Be6,Rb2,b3,cxb3,Rac8+,Nxc8,Rxc8+,Nc3', 'Qa1+,Kc2,Bf5+,Qd3,Bxd3+', 'https://lichess.org/training/F1j7U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F1ODE', 'Rapid', 'skvach13', 1755, 'MSPROMETHEUS', 1819, 'd4,d6,Bf4,f5,e3,Nf6,Ne2,g6,g3,Bg7,Bg2,O-O,Nbc3,c6,O-O,Qe8,Bg5,e5,dxe5,dxe5,e4,f4,gxf4,exf4,Nxf4,h6,Bxf6,Rxf6,Nd3,Nd7,f4,Nb6,e5,Rf8,Ne4,Nd5,Nd6,Qd8,Bxd5+,cxd5,Nc5,Qb6,Qxd5+,Kh7,Nxb7', 'Bxb7,Qxb7,Qxc5+', 'https://lichess.org/training/F1ODE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F1oWi', 'Rapid', 'paulemaule', 1633, 'vvm', 1632, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,c6,Be2,Bf5,O-O,Nd7,d4,O-O-O,Bd2,e6,Ne4,Qc7,Neg5,Nb6,Ba5,h6,Bxb6,axb6,Nh3,g5,Bd3,Bxh3,gxh3,Bd6,Re1,Nf6,Ne5,Nh5,Qxh5,Bxe5,dxe5,b5,c4,Rxd3,cxb5,c5,b6,Qxb6,Qxf7,Rxh3,b3,Qc6,Rac1,Rf3,Qe7,Rhf8', 'Rxc5,Qxc5,Qxc5+', 'https://lichess.org/training/F1oWi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1Qxn', 'Classical', 'Salibeg', 1854, 'Chessplayer1523', 1684, 'e4,c5,Bc4,e6,d4,cxd4,Qxd4,Nc6,Qd1,Bc5,Nc3,Qf6,Nf3,Ne5,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/f1Qxn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1Rty', 'Classical', 'Ayushkumar2507', 1652, 'forgoted_mad', 1658, 'd4,d5,Nf3,Bf5,Bf4,Nc6,e3,e6,c3,a6,Nbd2,Bd6,Bg3,Bxg3,fxg3,Nf6,Be2,Ne4,Nxe4,Bxe4,Bd3,b5,Bxe4,dxe4,Nd2,O-O,Nxe4,Qd5,Qg4', 'f5,Nf6+,Rxf6', 'https://lichess.org/training/f1Rty');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F1vZX', 'Rapid', 'chespirituu', 2034, 'lawyer090', 1885, 'Nf3,c5,g3,d5,Bg2,Nc6,O-O,e5,d3,h6,Nbd2,Nf6,Re1,Bd6,e4,d4,Nc4,O-O,a4,Be6,Nxd6,Qxd6,b3,Bg4,h3,Bh5,g4,Bg6,Nh4,Nd8,Rf1,Ne6,Nf5,Qd7,f4,exf4,Bxf4,Bxf5,gxf5,Nd8,Qf3,Nh7,Bh2,Nc6,e5,Rae8,Rae1,Ng5,Qg4,Nb4,Re2,Nd5,h4,Ne3,Rxe3,dxe3,hxg5,hxg5,Qxg5,Qd4,Kh1,e2,Rg1,Rxe5,Bxe5', 'Qxg1+,Kxg1,e1=Q+,Kh2,Qxe5+', 'https://lichess.org/training/F1vZX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1w3A', 'Rapid', 'dmytro2018', 2041, 'mertgurel', 1960, 'f4,d5,Nf3,Nc6,b3,Nf6,Bb2,Bg4,e3,e6,Bb5,a6,Bxc6+,bxc6,Nc3,Bd6,O-O,O-O,Ne2,Bxf3,Rxf3,Re8,Rh3,e5,fxe5,Bxe5,Bxe5,Rxe5,Nf4,Rg5,Qf3,Qd6,Rf1,a5,Nh5,Rg6,Nxf6+,Rxf6,Qh5,Rxf1+,Kxf1,Qg6,Qxg6,hxg6,Rh4,g5,Rg4,f6,Ke2,Kf7,Kd3,Ke6,Ra4,c5,e4,d4,Kc4,Kd6,a3,Re8,d3,Rh8,h3,g4,hxg4,Rh4,Rxa5,Rxg4,Ra6+,c6,Ra5', 'Rxg2,b4,Rxc2+', 'https://lichess.org/training/f1w3A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F1WdR', 'Rapid', 'Dirty_One', 1938, 'Guguta', 2048, 'e4,e5,Nf3,Nf6,Nxe5,c6,Nc3,Bb4,Bc4,O-O,d3,Qa5,Nf3,d5,exd5,cxd5,Bb3,Re8+,Kf1,Bxc3,bxc3,Qxc3,Bd2,Qc7,g3,Bg4,Kg2,Qc6,c4,d4,Ba4', 'Bxf3+,Qxf3,Qxa4', 'https://lichess.org/training/F1WdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1wre', 'Classical', 'Boucan', 1978, 'Eyadabbas1', 1857, 'e4,e5,Nf3,d6,d4,Nc6,dxe5,dxe5,Qxd8+,Kxd8,Bc4,Nf6,Ng5,Nd4,Nxf7+,Ke7,Nxh8,Nxc2+,Ke2,Nxa1,f3,Nc2,Nf7,Nd4+,Kf2,Nc6,Ng5,h6,Nh3,a6,Nc3,Bxh3,gxh3,Na5,Be2,Rd8,Be3,Ke8,a3,Bd6,h4,Nb3,Rg1,Kf8,Bc4,Nc5,Ke2,b5,Ba2,c6,b4,Nb7,Bb6,Rd7,Ke3,c5,bxc5,Nxc5,Rd1,Ke7,Nd5+,Nxd5+,Bxd5,Na4,Ba5,Bxa3,Ra1,Bc5+,Kd3,Bd4,Rc1,Nc5+,Ke2,Kf6,Bb6,Rxd5,exd5,Nb3,Rc6+,Kf5,Bxd4', 'Nxd4+,Ke3,Nxc6,dxc6,Ke6', 'https://lichess.org/training/f1wre');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1YDP', 'Rapid', 'yousef_3mara992', 1960, 'Oleg111000', 2135, 'e4,g6,Nf3,Bg7,d4,d6,Nc3,Nc6,Bc4,Nf6,Be3,O-O,Qd2,Bg4,Bh6,Bxf3,Bxg7,Kxg7,gxf3,e5,d5,Nd4,O-O-O,Nxf3,Qe3,Nd4,h4,Nh5,Be2,Nf4,Bg4,h5,Bf3,Qf6,Rdg1,Kh7,Ne2,Nxf3,Qxf3,Nxe2+,Qxe2,Qf4+,Kb1,f5,f3,fxe4,fxe4,Qf2,Qd1,Rf4,Rf1,Qg3,Rfg1,Qe3,Rg5,Qxe4,Rxh5+,gxh5', 'Qxh5+,Kg7,Rg1+,Rg4,Rxg4+,Qxg4,Qxg4+', 'https://lichess.org/training/f1YDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f1yZX', 'Blitz', 'bluemate', 1632, 'Busy_Beaver', 1594, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,g6,Bb5,a6,Ba4,b5,Bc2,Bg7,h3,Nf6,O-O,Bb7,Bg5,Qb6,e5,dxe5,dxe5,Nh5,g4,Nxe5,Nxe5,Bxe5,Qe2,Nf4,Qxe5,Nxh3+,Kh2,f6,Bxf6,Qxf6,Qxf6,exf6,Kxh3,Rc8,Nc3,b4,Ba4+,Kf7,Ne2,Bf3,Nf4,g5,Bb3+,Kg7,Ne6+,Kg6,Rac1,h5,Rxc8', 'hxg4+,Kg3,Rh3#', 'https://lichess.org/training/f1yZX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f25f1', 'Rapid', 'twodoors', 2041, 'VikTor-62', 2021, 'e4,e6,Nf3,c5,c3,Nc6,d4,cxd4,cxd4,Nf6,e5,Nd5,Bc4,Bb4+,Bd2,Bxd2+,Nbxd2,Nb6,Bb3,d6,exd6,Qxd6,Ne4,Qf4,Bc2,Nb4,O-O,Nxc2,Qxc2,O-O,Ne5,f5,g3', 'Qxe4,Qxe4,fxe4', 'https://lichess.org/training/f25f1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f26vd', 'Classical', 'hridesh', 1865, 'avneet188621', 1939, 'e4,Nc6,d4,e5,c3,d6,Bb5,Bd7,Bxc6,Bxc6,d5,Bd7,c4,b6,Nc3,Nf6,Nf3,g6,O-O,Bg7,Bg5,O-O,Bxf6,Bxf6,Nd2,Bg5,Ne2,f5,f4,exf4,Nxf4,fxe4,Ne6,Bxe6,dxe6,Be3+,Kh1,Rxf1+,Nxf1,Qg5,Nxe3,Qxe3,Qd5,Re8,e7+,Kg7,Qe6,Qf4,Re1,e3,Qd7,e2,Rg1,Qf1,Qxe8', 'Qxg1+,Kxg1,e1=Q#', 'https://lichess.org/training/f26vd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F28XD', 'Rapid', 'Kadhaver', 1649, 'stubaldragoslav', 1660, 'e4,Nf6,e5,Nd5,d4,d6,Bc4,Nb6,Bb3,g6,Nf3,Bg7,exd6,cxd6,Be3,O-O,Nc3,Nc6,d5,Ne5,Nxe5,Bxe5,O-O,Bf5,f4,Bxc3,bxc3,Rc8,Bd4,Be4,Qe2,Bxd5,Bxd5,Nxd5,c4,Nf6,f5,d5,h4,Ne4,h5,Ng3', 'Qe5,f6,Qxg3', 'https://lichess.org/training/F28XD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f29LA', 'Blitz', 'TumenS', 2077, 'vicegananda', 1992, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,e5,Nd5,Qg4,g6,Bd2,Qa5,Nb3,Qc7,Nxd5,Bxd2+,Kxd2,exd5,Re1,Nc6,f4,b6,Bd3,Bb7,a4,O-O-O,a5,Nxa5,Nxa5,bxa5,Ra1,Kb8,Ra3,d6,e6,fxe6,Qxe6,Rhe8,Qh3,d4,Rha1,Qc6,Bf1,Re3,Rxe3,dxe3+,Qxe3,Re8,Qd3,Qb6,Qb5,Qf2+,Kc3,Rc8+,Kb3,Ka8,Rxa5,Qe3+,c3,Rc5,Qb4,Bd5+,Ka3,Rc4,Qxd6,Rxc3+,bxc3', 'Qxc3+,Ka4,Qb3#', 'https://lichess.org/training/f29LA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f2DC6', 'Rapid', 'broy', 1880, 'spotchecker2018', 1922, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,e5,Bc5,O-O,Nge7,c3,dxc3,Qb3,O-O,Nxc3,Na5,Qb5,Bb6,Bd3,a6,Qb4,Nac6,Qe4,Ng6,Nd5,Nce7,Nf6+,Kh8,Nh5,d5,exd6,cxd6,Bxh6,gxh6,Nh4,d5,Nxg6+,Nxg6,Qf3,f5,Bc2,Qg5,Qc3+,d4,Qb3,Bc7,Ng3,Bxg3,fxg3,b5,Qd5,Rb8,Qxd4+,Kh7,Qa7+,Bb7,Bxf5,Qd2,Bxg6+,Kxg6,Qb6+,Kh7,Qc7+,Kg8,Rxf8+', 'Rxf8,Qxb7,Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/f2DC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f2DuO', 'Classical', 'combat55', 1904, 'GRINGRI', 2018, 'e4,e6,d4,d5,e5,c5,c3,Ne7,Nf3,Nec6,Be2,Qb6,O-O,cxd4,cxd4,Nd7,b3,Be7,Bb2,O-O,Nc3,a5,Na4,Qd8,Rc1,f6,Bb5,Nb4,Bxd7,Qxd7,Nc5,Bxc5,dxc5,Nxa2,Ra1,Nb4,exf6,Rf7,Ne5,Qb5,Nxf7,Kxf7,fxg7,Qxc5,Qf3+,Kg8,Rac1,Qe7,Rc7,Bd7,Rfc1,b5,Bd4,Qd6,Bc5,Qxc7,Qf8+,Rxf8', 'gxf8=Q#', 'https://lichess.org/training/f2DuO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f2f73', 'Rapid', 'mickro', 1736, 'admaiora', 1747, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,Bg4,O-O,Qf6,Nbd2,h5,h3,Be6,Bxe6,Qxe6,Nc4,Be7,a4,f6,Re1,g5,Be3,g4,hxg4,hxg4,Nh2,g3,fxg3,f5,exf5,Qxf5,Qg4,Qh7,Nf3,Qh1+,Kf2,Qh5,Qxh5+,Rxh5,Rh1,Rxh1,Rxh1,O-O-O,c3,Rf8,Ke2,Nd8,Rh8,Ne6,b4,Kd7,a5,Ng7,Bxa7,Nf5,g4,Nfh6,Ne3,Nf7,Rh3,Ng5,Nxg5,Bxg5,Rf3,Rf6,Rxf6,Nxf6,Nf5,Nxg4,Be3,Bf6,Kf3,Nxe3,Kxe3,Ke6,Ke4', 'd5+,Ke3,Kxf5', 'https://lichess.org/training/f2f73');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F2h2T', 'Rapid', 'TONYKENT', 2025, 'Neuron4', 1982, 'd4,d5,c4,c6,e3,Nf6,Bd3,e6,Nf3,Bd6,O-O,O-O,Nbd2,Re8,cxd5,exd5,Qc2,Nbd7,a3,Nf8,b4,Bg4,Rb1,Rc8,Bf5,Bxf5,Qxf5,a6,a4,Ng6,Qd3,Ne4,b5,axb5,axb5,f5,Ba3,c5,dxc5,Bxc5,Rfc1,b6,Bb2,f4,Nd4,Ne5,Qe2,fxe3,fxe3,Qg5,Nxe4,dxe4,Rf1,Nd3,Bc3,Bd6,Bd2,Qh6,g3,Rf8,Qg4,Nc5,Bb4', 'Qxe3+,Kg2,Qxd4', 'https://lichess.org/training/F2h2T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F2HLl', 'Blitz', 'saawad', 1582, 'ArnauPress', 1594, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Bg3,b6,Bd3,Bb7,c3,c5,Ne5,Nfd7,Nd2,Nxe5,dxe5,Be7,O-O,Nc6,Bb5,a6,Be2,Qc7,Bf3,Nxe5,c4,Nxf3+,Qxf3,Bd6,Bxd6,Qxd6,cxd5,Bxd5,e4,Bb7,Nc4,Qc6,Rfe1,O-O,Ne5,Qc7,Nc4,Rad8,Rad1,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,h3,Qd4,Nxb6,Bxe4,Qf4,e5,Qg4,f5,Qh4,Qd1+,Kh2,Qf1,Qd8+,Kf7,Qd7+,Kg6,Qd6+,Kh5,g4+,Kh4', 'Qe7+,g5,Qxh7#', 'https://lichess.org/training/F2HLl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F2mBj', 'Blitz', 'joshgrafix', 1620, 'llaga', 1631, 'e4,Nc6,Nf3,e5,Nc3,Nf6,d4,d6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bd3,Bd7,Bg5,Be7,Rd1,Kc8,Bxf6,Bxf6,Nd5,Bd8,O-O,c6,Ne3,Be7,Nf5,Bf8,a3,g6,Ne3,Kc7,h3,h5,c4,a6,b4,Rg8,c5,g5,Be2,h4,Ng4,Bg7,a4,f5,exf5,Bxf5,Ne3,Be6,Bg4,Rae8,Ra1,e4,Rab1,Bd4,Rfd1,Bxe3,Bxe6,Bxf2+,Kxf2,Rgf8+,Ke3,Rxe6,Rf1,Rfe8,Rf5,Re5,Rbf1,b6,Rf7+,R8e7,cxb6+,Kxb6,R7f6,Rd7,Rc1,Rd3+,Ke2,e3,Rcxc6+,Kb7,Rcd6,Rd2+,Rxd2,exd2+,Kxd2,Rd5+,Kc3,Re5,Rg6,Ka7,Kd4,Rf5,Ke4,Rf4+,Ke3,Rxb4,a5,Rb5,Kf3,Rxa5,Kg4,Kb7,Rxg5', 'Rxg5+,Kxg5,a5,Kxh4,a4', 'https://lichess.org/training/F2mBj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F2OTT', 'Bullet', 'anuarkz2002', 1829, 'CM Kingscrusher-YouTube', 2487, 'e4,d5,exd5,c6,Nc3,cxd5,d4,e5,dxe5,d4,Nce2,Nc6,Nf3,f6,e6,Bc5,c3,d3,Nf4,Nh6,Bxd3,Qb6,O-O,O-O,Qc2,f5,Nh4,g6,b4,Bd6,c4,Nxb4,Qb2,Nxd3,Qxb6,axb6,Nxd3,Bxe6,Bxh6,Rfe8,Rfe1,Bxc4,Rxe8+,Rxe8,Rd1,b5,Nb2,Bb8,h3,Kf7,g3,Ba7,Nxc4,bxc4,Rd7+,Re7,Rxe7+,Kxe7,Bg5+,Ke6,Nf3,Kd5,Nd4,Kc5,Kf1,Kxd4,Ke2,c3', 'Be3+,Kc4,Bxa7', 'https://lichess.org/training/F2OTT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f2P0I', 'Rapid', 'NIHONTO_EUROPE', 1881, 'afrarex', 1828, 'e4,e5,f4,exf4,Nf3,g5,h4,Qe7,Nc3,g4,Ng5,h6,Nd5,Qe5,d4,Qd6,Bxf4,Qg6,Nxc7+,Kd8,Nxf7+,Qxf7,Qxg4,d6,Qf3,Qxc7,O-O-O,h5,Bg5+,Be7,Qf8+,Kd7,b3,Bxg5+,Kb2,Qd8,Bb5+,Kc7,Qg7+,Qe7,Qxh8,a6,Bd3,Bf6,Qxg8,Bxd4+,c3,Bc5,Qg3,Nc6,Rhe1,Ne5,Be2,Be6,Qh2,Rf8,Rf1,Bf2,g3,Ng4,Bxg4,Bxg4,Rd5,Qxe4,Rxf2', 'Rxf2+,Qxf2,Qxd5', 'https://lichess.org/training/f2P0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f2p5F', 'Rapid', 'Naranjo1312', 1690, 'Michael_Brasil', 1670, 'd4,d5,Nf3,Nc6,Bf4,Nf6,e3,e6,Bb5,Bd7,O-O,Be7,Nbd2,O-O,Bd3,Bc8,c3,Nh5,Be5,Nxe5,dxe5,g6,Qc2,f5,exf6,Nxf6,Rad1,c5,e4,c4,Be2,b5,e5,Nd7,b3,Qc7,bxc4,bxc4,Nd4,Nxe5,N2f3,Nxf3+,Bxf3,Rb8,Rfe1,e5,Bxd5+,Kg7,Nf3,Bg4,Nxe5,Bxd1,Qxd1,Bd6,Nf3,Rxf3,Qxf3,Bxh2+,Kf1,Rf8,Qe4,Bg3,Qd4+,Kh6,Re2,Qb8,Qe3+,Bf4,Qh3+,Kg7,Re7+,Kf6,Qe6+,Kg5,f3,Qb1+,Qe1', 'Qd3+,Kf2,Qxd5', 'https://lichess.org/training/f2p5F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f2pYb', 'Rapid', 'chesito64', 1892, 'Ilxamovich000', 1852, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,c4,c5,Qd1,Nf6,Nc3,Be7,Bd3,h6,O-O,O-O,Nd5,Nxd5,exd5,Bf6,Qh5,Bd7,f4,Bd4+,Kh1,Qf6,Bd2,Bxb2,Rab1,b6,g4,Qd4,Rf3,Bc3', 'Bxc3,Qxc3,Bh7+,Kxh7,Rxc3', 'https://lichess.org/training/f2pYb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F2r0S', 'Blitz', 'Jiggie', 1778, 'sgonin57', 1732, 'b3,c6,Bb2,d6,e3,Nd7,Be2,e5,Nf3,Ngf6,c4,Qc7,Nc3,Be7,d4,O-O,Bd3,Re8,Ng5,Bf8,d5,h6,Nge4,Nxe4,Nxe4,f5,Ng3,e4,Nxf5,exd3,Nxh6+,gxh6,Qg4+,Kh7', 'Qf5+,Kg8,Qg6+,Bg7,Qxg7#', 'https://lichess.org/training/F2r0S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F2s6g', 'Rapid', 'MajorLemon', 2197, 'Robertovasquez', 2155, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Nf3,Nf6,Bc4,e6,O-O,Be7,Qe2,Nc6,Rd1,a6,e5,Ng4,exd6,Bf6,h3,Nh6,Nd5,O-O,Bxh6,exd5,Rxd5,gxh6,Bd3,Nb4,Rh5,Nxd3,Qxd3,Bg7,Ng5,f5,Qd5+,Kh8,Nf7+,Rxf7,Qxf7,Bd7,Qd5,Rc8,Re1,Rc2,Re7,Bc6,Qxf5', 'Rc1+,Kh2,Qxd6+', 'https://lichess.org/training/F2s6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F2Tfc', 'Blitz', 'albsp', 1630, 'Lanioche59', 1652, 'e4,e5,Nf3,Qf6,Nc3,c6,Bc4,d6,O-O,h6,d3,Bg4,h3,Bh5,Qe2,b5,Bb3,Be7,Be3,Bd8,a4,b4,Na2,c5,c3,bxc3,Nxc3,Bxf3,Qxf3,Qxf3,gxf3,Nf6,f4,exf4,Bxf4,Na6,Bxd6,Rc8,e5,Nh5,Nd5,Nb4,Bc4,Nc2,Rab1,Nd4,b4,cxb4,Bxb4,Nf3+,Kh1,f6,Bb5+,Kf7,exf6,gxf6,Bc3,Rg8,Bd7,Rc5,Rb7,Rxd5,Bc6+,Ke6,Bxd5+,Kxd5,Rxa7,Nf4,Ra8,Nxh3,Bxf6,Rg4,Rxd8+,Ke6,Bc3', 'Nxf2+,Rxf2,Rg1#', 'https://lichess.org/training/F2Tfc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F2Tyo', 'Blitz', 'lidenbrook', 2354, 'IM Nicah', 2356, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,c6,Qd2,a6,Bd3,b5,e5,Nfd7,f4,bxc4,Bxc4,Nb6,Bb3,d5,Nf3,Bg4,O-O,N8d7,a4,a5,Rac1,e6,h3,Bxf3,Rxf3,Nc4,Bxc4,dxc4,g4,Nb6,f5,exf5,gxf5,gxf5,Rxf5,f6,Bh6,Bxh6,Qxh6,Qxd4+,Kh2,Rf7,Rg1+,Kh8,exf6,Qd6+,Qf4,Qxf4+,Rxf4,Raf8,Rgf1,Nd5,Rxc4', 'Ne3,Rff4,Nxc4', 'https://lichess.org/training/F2Tyo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f2U8D', 'Rapid', 'igorsm', 1904, 'RolandoPulido2020', 1923, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,a6,Bxc6,dxc6,d4,exd4,cxd4,Ba7,Be3,Bg4,Nc3,Nf6,e5,Nd5,Bg5,f6,exf6,gxf6,Qe2+,Kf7,Ne5+,fxe5,Qxg4,Qe8,Qf5+,Kg7,dxe5,Rf8,Qg4,Bxf2+,Kd2,Qxe5', 'Bf4+,Kf7,Bxe5', 'https://lichess.org/training/f2U8D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F2Xum', 'Rapid', 'khaled1970', 1757, 'goliath12', 1765, 'e4,d5,e5,Bf5,d4,e6,Nc3,Bb4,Qf3,Ne7,Bd2,Nbc6,Nb5,Bxd2+,Kxd2,Nb4,Bd3,Bxd3,cxd3,Qd7,Na3,Nf5,Ne2,a6,Rhd1,Qe7,Ke1,Nc6,Rac1,Ncxd4,Nxd4,Nxd4,Qg4,O-O,Qxd4,c5,Qf4,Rac8,d4,c4,Nc2,a5,Ne3,b5,Ng4,Qb4+,Kf1,Qxb2,Rb1,Qxa2,Rxb5,c3,Rc1', 'Qc4+,Kg1,Qxb5', 'https://lichess.org/training/F2Xum');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F3BX1', 'Rapid', 'henkdevries', 1930, 'BBK1986', 1885, 'd4,g6,c4,Bg7,Nc3,c5,d5,e6,e4,exd5,cxd5,d6,Nge2,Nd7,Ng3,Ne5,Bb5+,Bd7,Qa4,Qc7,Bg5,f6,Be3,a6,Bxd7+,Nxd7,O-O,Ne7,Rac1,b5,Nxb5,Qb6,b4', 'Qxb5,Qxb5,axb5', 'https://lichess.org/training/F3BX1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f3CLO', 'Rapid', 'matteo2n', 1832, 'Teshell', 1734, 'd4,d5,Nf3,Nc6,e3,Bf5,c4,e6,Nc3,Nf6,cxd5,exd5,Bb5,Qd6,Qa4,Bd7,Ne5,Nxe5,dxe5,Qe6,Bxd7+,Nxd7,f4,Bc5,Nb5,Qc6,Bd2,a6,Rc1', 'Qxb5,Qxb5,axb5', 'https://lichess.org/training/f3CLO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f3doV', 'Rapid', 'BlackSlon', 2037, 'DemonidStalker', 2236, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,e3,h6,Bf4,Bb4,Bd3,c5,a3,Bxc3+,bxc3,dxc4,Bxc4,Nb6,Ba2,cxd4,cxd4,O-O,Nf3,Bd7,O-O,Rc8,Qd3,a6,Rfc1,Nbd5,Rxc8,Qxc8,Bd6,Rd8,Qd2', 'Ne4,Qe1,Nxd6', 'https://lichess.org/training/f3doV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f3eJc', 'Rapid', 'Alexandro2020', 1711, 'donbass1488', 1705, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,h3,d6,Nc3,h6,Na4,Bb6,Nxb6,axb6,Be3,O-O,Qd2,Be6,Bb5,Nd4,Nxd4,exd4,Bxh6,gxh6,Qxh6,c6,Bc4,Bxc4,dxc4,Nh7,Qh5,Qg5,Qf3,f5,h4,fxe4', 'Qxf8+,Rxf8,hxg5', 'https://lichess.org/training/f3eJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f3FDv', 'Rapid', 'Clorple', 1791, 'Squire_Western', 1802, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,Nc3,Nxc3,bxc3,dxe5,Nxe5,Nxe5,dxe5,Qxd1+,Kxd1,Bf5,Bb5+,Kd8,Ke2,Kc7,Bf4,e6,Rad1,Kb6,a4,a6,Bc4,Rc8,Be3+,Bc5,Rd6+,Rc6,a5+,Kc7,Rxc6+,Kxc6,Rd1,Bxe3,Kxe3,Kc5,Bb3,Kb5,Rd7,Kxa5,Rxf7,b5,Rxg7,Rc8,Kd4,Kb6,Re7,Rd8+,Ke3,Kc5,Bxe6,Bxe6,Rxe6,a5,Ra6,a4,e6,Re8,f4,Kc4,Kd2,Kb3,f5,a3,Kc1,a2,f6', 'Rxe6,Rxe6,a1=Q+', 'https://lichess.org/training/f3FDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F3GBm', 'Rapid', 'Jazzit', 1961, 'Frost10', 1918, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,c5,Bd3,c4,Be2,a6,O-O,Bd6,Re1,O-O,Bg5,Be6,b3,Bb4,Bd2,Qa5,Nb1,c3,Bg5,Ne4,Be3,f5,a3,f4,Bc1,Nc6,Bd3,Bg4,Bxe4,dxe4,Rxe4,Rae8,Rxe8,Rxe8,Bxf4,Re4,Be3,Be7,Qd3,Qf5,Nxc3,Bxf3,gxf3,Qg6+,Kf1,Re6,Qxg6,Rxg6,Ke2,Re6,d5,Nd4+,Kd3,Rxe3+,fxe3,Nxf3,h3,Ne5+,Ke4,Nd7,Rd1,Bxa3,d6,Bb2,Nd5,Be5,Ne7+,Kf7,Rf1+,Ke6,Nf5', 'Nc5+,Kf3,Kxf5', 'https://lichess.org/training/F3GBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F3H9f', 'Classical', 'a7med0', 1639, 'alex_tiger', 1655, 'Nf3,Nf6,d4,d5,c4,dxc4,Nc3,Nc6,e4,Bg4,Be3,Bxf3,Qxf3,Nb4,O-O-O,Qd7,e5,Ng4,Ne4,Nxa2+,Kb1,Nb4,Bd2,Nc6,d5,Ncxe5,Qf4,Qxd5,h3,Nh6,Be2,Nd3,Qf3,Ne5', 'Nf6+,gxf6,Qxd5', 'https://lichess.org/training/F3H9f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F3Kny', 'Blitz', 'FM Dr_Nezard', 2486, 'CM samidescalona2002', 2485, 'Nf3,g6,d4,Bg7,g3,Nf6,Bg2,d6,O-O,O-O,a4,a5,Na3,c6,Nc4,Be6,Ncd2,Bf5,Re1,Ne4,Nh4,Nxd2,Qxd2,Be6,e4,d5,e5,Na6,f4,Nc7,Rf1,f5,exf6,Bxf6,Nf3,Bf5,Re1,Ne8,Ne5,Nd6,Ra3,Be4,Bxe4,Nxe4,Qg2,Bxe5,dxe5,e6,Rd3,Qb6+,Kf1,Qb4,b3,b5,Bd2,Qc5,Be3,Qb4,Bd2,Qe7,Rxe4,dxe4,Qxe4,bxa4,Qxa4,Rad8,Qxc6,Rxd3,cxd3,Rd8,Ke2,Rb8,Bxa5,Rxb3,Bd2,Rb2,Ke3,Kf7,h3,Qa7+,Ke2,Qb7,Qxb7+,Rxb7,Kf3,Ra7,g4,Ra4,Be3,Ra3,Ke4,Rb3,d4,Rb4,f5,gxf5+,gxf5,Ra4,Bd2,Ra2,fxe6+,Kxe6,d5+,Kd7,e6+,Ke8,Bb4', 'Ra4,Kf3,Rxb4', 'https://lichess.org/training/F3Kny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f3ksS', 'Rapid', 'st_ark625', 1622, 'Yovisnando', 1610, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,Qxd4,Be3,Qd8,Bd3,e5,O-O-O,Bg4,Qxb7,Bxd1,Kxd1,e4,Qxa8,exd3,Ne4,dxc2+,Kxc2,Nxe4,Qxe4+,Be7,Nf3,O-O,Rd1,Qc8,Qxe7,Re8,Qg5,Nc6,Nh4,h6,Qg3,Nb4+,Kb1,Qa6,a3,Nc6,Bxh6,g6,Qc3,Ne5,Nxg6,fxg6,Qb3+,Kh7,Qh3,Nf7,Bg5+,Kg7,Rd7,Re1+,Ka2', 'Qc4+,Qb3,Ra1+,Kxa1,Qxb3', 'https://lichess.org/training/f3ksS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f3LBw', 'Rapid', 'abouelmakarm', 1657, 'harooniqbal', 1651, 'd4,g6,e4,Bg7,e5,b6,f4,Bb7,c4,d6,Nf3,dxe5,fxe5,e6,Nc3,f6,exf6,Nxf6,Bg5,Nbd7,Qd2,Qe7,Ne5,h6', 'Nxg6,Qf7,Nxh8', 'https://lichess.org/training/f3LBw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f3m43', 'Rapid', 'cacolac', 1930, 'efeequis', 1903, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Bc4,Nxf3+,Qxf3,Nf6,d4,d6,dxe5,dxe5,O-O,Be7,Nc3,O-O,Bg5,Bg4,Qe3,Nd7,Bxe7,Qxe7,f3,Nb6,Bb3,Be6,Rfd1,Rfd8,Nd5,Nxd5,exd5,Bf5,c4,Kf8,Rd2,f6,Rad1,Qb4,h4,Bg6,g4,Rd6,h5,Bf7,Qe4,Rad8,Qxh7,Bg8,Qf5,c6,g5,cxd5,gxf6,Rxf6,Qxe5,Rxf3,Rxd5,Bxd5,cxd5,Qc5+,Qd4,Qxd4+,Rxd4,Rh3,Rf4+,Ke7,Rf5,Rf8', 'd6+,Kxd6,Rxf8', 'https://lichess.org/training/f3m43');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F3nPj', 'Blitz', 'Arturteunov10', 2055, 'Zurus45', 2180, 'e4,e6,d3,d5,Nd2,Nf6,g3,c5,Bg2,Be7,Ngf3,Nc6,O-O,O-O,Re1,b6,c3,Bb7,e5,Nd7,Qe2,b5,h4,a5,Nf1,b4,N1h2,Ba6,h5,a4,Ng4,a3,bxa3,bxc3,h6,g6,Qc2,d4,Bf4,Qc7,Bg5,Bxg5,Nxg5,Ncxe5,Rxe5,Nxe5,Nf6+,Kh8,Bxa8,Rxa8,Ngxh7,Bxd3,Qc1,c4,Ng5,Rc8,Qf4,Rf8,Re1,c2,Qxd4,Nc6,Qc5,Qe7,Qxc6,Qxf6,Qc5,Rb8,a4,e5,a5,Qxg5,Qd6,Rb1', 'Qf8+,Kh7,Qg7#', 'https://lichess.org/training/F3nPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F3NsQ', 'Rapid', 'kleptomanchess', 1803, 'hh_aus_hh', 1794, 'e4,e5,Bc4,Nc6,Nf3,Bc5,O-O,d6,Nc3,Be6,a3,a5,Bxe6,fxe6,d3,Nf6,Be3,Nd4,Nxd4', 'exd4,Bd2,dxc3', 'https://lichess.org/training/F3NsQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F3QXQ', 'Blitz', 'Jeff3003', 1715, 'mb1981', 1857, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Bb4,e3,c6,Nf3,Qa5,Qc2,Ne4,Rc1,Qxa2,Bd3,Nxc3,O-O,Ne4', 'Ra1,Qxa1,Rxa1,Nxg5,Nxg5', 'https://lichess.org/training/F3QXQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f3USD', 'Rapid', 'nekja', 2095, 'ore-wa-kami', 2093, 'e3,Nf6,d3,g6,c3,Bg7,Qc2,d5,Nd2,c5,Be2,Nc6,Ngf3,a6,e4,d4,a3,e5,O-O,O-O,h3,b5,a4,bxa4,Rxa4,Bd7,Ra3,Qb6,Nc4,Qc7,Bg5,h6,Bh4,g5,Bg3,Nh5,cxd4,Nxg3,fxg3,Nxd4,Nxd4,exd4,g4,Bb5,Nd2,Rac8,b3,Qg3,Rf3,Qe1+,Nf1,Be5,Rf5,f6,Qd2,Bg3,Qxe1,Bxe1,Ra1,Bc3,Rc1,Bd7,Rf3,Rb8,Bd1,Be6,Bc2,Kg7,Rb1,Rb4,Ng3,Rfb8,Nh5+,Kh8,Rxf6,Bxb3,Rxh6+,Kg8,Bxb3+,Rxb3,Rf1,R3b6,Nf6+', 'Kg7,Rh5,Rxf6', 'https://lichess.org/training/f3USD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F3wHo', 'Rapid', 'pero65', 1617, 'Firmino_87', 1698, 'e4,e5,Nf3,d6,Bb5+,Nd7,Nc3,c6,Bc4,h6,d3,Ngf6,h3,Nb6,Bb3,Be7,Na4,Nxa4,Bxa4,Qa5+,c3,Bd7,b4,Qc7,Bb2,b5,Bb3,c5,Rc1,c4,Bc2,a5,a3,axb4,axb4,O-O,O-O,d5,exd5,Nxd5,dxc4,Nf4,c5,Ra2,Rb1,Be6,Bc1,Rd8,Bd2,Bc4,Bb3,e4,Bxc4,bxc4,Nd4,Nd3,Be3,Bf6,Ra1,Rxa1,Qxa1,Qd7,Qa2,Bxd4,Bxd4,Qe6,Qe2,Nf4,Qe3,Nd3,Qg3,g6,h4,Kh7,f3,e3,h5,g5,f4,Nxf4,Rxf4,Rxd4', 'Rxd4,e2,Qe1', 'https://lichess.org/training/F3wHo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F3yGK', 'Classical', 'ThiagoBabosa', 1904, 'HECTORSERRANO', 1690, 'c4,e5,g3,b6,Bg2,Nc6,Nc3,Bb7,Nf3,Nf6,d3,d5,O-O,Qd7,cxd5,Nxd5,Nxd5,Qxd5,Ng5,Qd6,Qa4,Be7,Be3,Bxg5,Bxg5,h6,Be3,O-O,Rac1,Na5,f3,f5,b4,Nc6,f4,Nd8,Qb3+,Kh7,Bxb7,Nxb7,fxe5,Qxe5,Bf4,Qxe2,Rxc7,Nd8,Qd5,Ne6,Re7', 'Nxf4,Rxe2,Nxd5', 'https://lichess.org/training/F3yGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F40mw', 'Rapid', 'Anatol_lucky', 1685, 'xErenx', 1908, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d6,Ng5,d5,exd5,Na5,O-O,Nxc4,dxc4,c6,Re1,cxd5,Rxe5+,Be7,cxd5,O-O,c4,h6,Nf3,Bd6,Re2,Bg4,Qd3,Re8,Rxe8+,Qxe8,Nbd2,a6,b3,b5,Bb2,bxc4,Nxc4,Rd8,Bxf6,gxf6,Re1,Qd7,Nh4,Bc5,Qg3,Kh7,h3,Bh5,Qd3+,Bg6,Nxg6,fxg6,Re6', 'Qxe6,Qxg6+,Kxg6', 'https://lichess.org/training/F40mw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F43iG', 'Rapid', 'robertg6', 1783, 'Dmytro123', 1939, 'Nf3,c5,g3,g6,Bg2,Bg7,O-O,Nc6,d3,d5,c3,Nf6,Nbd2,O-O,Re1,e5,h3,e4,dxe4,dxe4,Nh2,Bd7,e3,Re8,Nc4,Qc7,Qd6,Qxd6,Nxd6,Re6,Nxb7,Bf8,b4,cxb4,cxb4,Bxb4,Re2,Rb8,a3,Rxb7,axb4,Nxb4,h4,Rd6,Ba3,Rdb6,Nf1,Nd3,Nd2,Bb5,Nxe4,Nxe4,Bxe4,Ne5,Rc2,Rb8,Bc5,Ra6,Rxa6,Bxa6,Bxa7,Rb1+,Kg2', 'Bf1+,Kh1,Bd3+', 'https://lichess.org/training/F43iG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f4eE4', 'Rapid', 'Erayahmed1903', 1735, 'SEGPRO', 1747, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,c3,Be7,d4,exd4,cxd4,O-O,O-O,c6,Bb3,Qc7,Bg5,Ne8,Bf4,Nd7,Nd2,Kh8,Bc2,g6,Bh6,Rg8,Qc3,Bf6,Nf3,c5,e5,cxd4', 'Qxc7,Nxc7,exf6', 'https://lichess.org/training/f4eE4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F4FDg', 'Rapid', 'fkiZoo', 1952, 'ricky14', 1966, 'd4,e6,Nc3,Nf6,Bg5,Be7,e4,h6,Bxf6,Bxf6,e5,Bg5,Bd3,Nc6,Nf3,d6,Bb5,dxe5,Nxe5,Bd7,Bxc6,Bxc6,Nxc6,bxc6,O-O,O-O,Re1,Qd7,Qf3,Rad8,Rad1,Bf6,Ne2,Qd5,Qa3,h5,Nc3,Qd6,Qxa7,Ra8,Qb7', 'Rfb8,Qxb8+,Rxb8', 'https://lichess.org/training/F4FDg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F4FK5', 'Classical', 'mikebicop', 1573, 'Crishtenzen', 1623, 'e4,e5,d3,d6,g3,f5,exf5,Nf6,g4,g6,Bh3,gxf5,gxf5,d5,Bg5,Nbd7,Nf3,Bc5,Nc3,d4,Ne4,b6,Qe2,Bb7,Nxf6+,Nxf6,Qxe5+,Be7,Bxf6,O-O,Rg1+,Kf7,Qe6+,Ke8,Rg8,Rxg8,Qxg8+,Kd7,Qe6+,Ke8,O-O-O,Bxf3,Re1,Qd6,Qg8+,Kd7,Rxe7+,Qxe7,Bxe7,Rxg8,f6+,Ke8,b3,Rg1+,Kb2,Rh1,Be6,Rxh2,Bb4,c5,Bd2,Rxf2', 'f7+,Ke7,Bg5+,Kf8,Bh6+', 'https://lichess.org/training/F4FK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f4Fok', 'Blitz', 'chancellor8', 2101, 'FM renanreis', 2215, 'd4,e6,Nf3,Nf6,c4,c5,d5,b5,cxb5,exd5,e3,Bb7,Nc3,g6,b3,Bg7,Bb2,Ne4,Nxe4,Bxb2,Nxc5,Qc7,Nxb7,Qc3+,Nd2,Bxa1,Nd6+,Ke7,Ne4,dxe4,Bc4,Rd8,Bd5,Nc6,O-O,Bb2,Nxe4,Qe5,f4,Qc7,Qc2,Bh8,Qc5+,d6,Qxc6,Qxc6,bxc6,Rac8,b4,h6,b5,f5,Nd2,Rc7,Nc4,Rb8,a4,Bc3,Rb1,g5,g3,gxf4,gxf4,Rh8,a5,Rb8,b6,Bxa5,bxc7', 'Rxb1+,Kg2,Bxc7', 'https://lichess.org/training/f4Fok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F4gI6', 'Rapid', 'fireflyua', 1676, 'Shohruhhon', 1747, 'Nf3,d5,e4,dxe4,Ng5,Nf6,d3,exd3,Bxd3,e5,O-O,Bd6,f4,exf4,Bxf4,Bxf4,Rxf4,h6,Qe1+,Qe7,Qxe7+,Kxe7,Ne4,Nxe4,Rxe4+,Be6,Nc3,Nc6,Nd5+,Kd6,Ne3,Rhe8,Rd1,Bd5,Nc4+,Bxc4', 'Bxc4+,Kc5,Rd5+', 'https://lichess.org/training/F4gI6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F4I3Y', 'Rapid', 'vlada555', 1646, 'woldemar', 1715, 'd4,d5,Bf4,Nf6,h3,b6,e3,c5,c3,Bb7,Nd2,e6,Be5,Nbd7,Be2,Nxe5,dxe5,Nd7,Ngf3,Be7,O-O,O-O,Qc2,f6,exf6,Bxf6,Rad1,Qc7,Bd3,g6,e4,Ne5,Nxe5,Bxe5,Nf3,Rxf3,gxf3,Qf7,f4,Qxf4,f3,d4,Qd2,Qg3+,Qg2,Qf4,Qg4', 'Qh2#', 'https://lichess.org/training/F4I3Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f4KM3', 'Blitz', 'skybooster', 1756, 'yanekk', 1747, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be3,Bb4,Bd3,d5,exd5,exd5,O-O,O-O,Nf5,d4,Nxd4,Nxd4,Bxd4,Be6,Be3,Re8,Qf3,Bg4,Qg3,Bd6,Bf4,Nh5,Qxg4,Nxf4,Bf5,Qf6,Ne4,Qe5,Rae1', 'Ne2+,Kh1,Qxh2#', 'https://lichess.org/training/f4KM3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F4LGr', 'Rapid', 'vasiliy15', 1762, 'RunGun', 1920, 'e4,Nf6,e5,Nd5,c4,Nb6,Nf3,d6,d4,Bg4,Be2,Nc6,exd6,exd6,O-O,Be7,Nbd2,O-O,b3,Re8,Bb2,Bf6,h3,Qe7,Re1,Bxf3,Nxf3,Qd7,Qd2,Re7,Bd3,Rae8,Kf1,a5,a3,a4,b4,d5,b5,Na7,c5,Nc4,Bxc4,dxc4,b6,cxb6,cxb6,Qb5,bxa7', 'c3+,Kg1,cxd2', 'https://lichess.org/training/F4LGr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f4MCM', 'Rapid', 'madgod', 1649, 'Mishima', 1610, 'e4,e6,d4,d5,Bd3,Ne7,c4,c5,Be3,Qb6,Qb3,Qxb3,axb3,cxd4,Bxd4,dxe4,Bxe4,Nec6,Nf3,Bb4+,Nc3,Nxd4,Nxd4,O-O,O-O,Nd7,Ncb5,f5,Bf3,e5,Ne6,Rf7,Bd5,Nb6,Nec7,Nxd5,Nxa8,Nb6,Nxb6,axb6,Ra8,Rf8,Rd1,f4,Nd6,Bxd6,Rxd6,e4,Kf1,e3,fxe3,fxe3+,Ke2,Re8,Rd3', 'Bg4+,Ke1,Rxa8', 'https://lichess.org/training/f4MCM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F4MGs', 'Blitz', 'tieyouuurmotherdown', 2027, 'IM MarBec', 2385, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,Nf6,Bd2,c5,O-O-O,Nc6,Rhe1,cxd4,Ne4,Be7,Bf4,Qd5,Nxd4,Qxd4,Qxd4,Nxd4,Rxd4,O-O,Nxf6+,Bxf6,Rd7,b5,Rb7,a6,Rd1,Rfd8,Rdd7,Rxd7,Rxd7,Rc8,Bc7,Kf8,Bd6+,Ke8,Ra7,Rc6,Ra8+,Kd7,Bf4,e5,Be3,Ke6,Kd2,Kf5,Ra7,Ke6,c3,Be7,Ke2,f5,f3,Bf6,g4,e4,fxe4,fxg4,Bf4,b4,e5,Bxe5,Bxe5,Kxe5,Rxg7,bxc3,bxc3,Kf5,Kd3,Re6,c4,Kf4,Rg6,Re5,Rxh6,Rg5,Rxa6,g3,Rf6+,Kg4,h6,g2,h7,g1=Q,h8=Q,Qb1+,Kc3,Qc1+,Kd4,Qd2+,Ke4,Qe2+,Kd4,Qb2+,Kd3,Qb1+,Ke2,Qc2+,Ke3,Re5+,Kd4,Qe4+,Kc3,Qe1+,Kb3,Re3+,Ka4,Qd1+,Kb5,Qd7+,Kb4', 'Qb7+,Rb6,Qxb6+', 'https://lichess.org/training/F4MGs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f4n8I', 'Blitz', 'henryestrada', 2324, 'Dank_Memes', 2340, 'd4,b5,e4,a6,c3,Bb7,f3,e6,Bd3,Nf6,Ne2,c5,O-O,d6,Be3,Nbd7,Nd2,Qc7,Ng3,Be7,Rc1,O-O,Qe2,c4,Bb1,e5,Nf5,Rfe8,Kh1,Bf8,Qf2,g6,Nh6+,Kg7,Qh4,Nh5,Nf5+,gxf5,Qxh5,f4,Bf2,Be7,Bh4,Bxh4,Qxh4,Qd8,Qg4+,Kh8,Qh5,Qf6,g3,fxg3,hxg3,Rg8,Qh3,Nf8,Rf2,Ne6,d5,Ng5,Qh4,Rg6,Rh2,Rag8,f4,exf4,gxf4,R8g7,fxg5,Rxg5,Rf1', 'Qxf1+,Nxf1,Rg1#', 'https://lichess.org/training/f4n8I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F4na2', 'Rapid', 'RoadtoM', 2094, 'BorisSverd', 1995, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Be3,Be7,O-O-O,Be6,f3,a6,g4,c5,Qd2,b5,h4,Qa5,Kb1,b4,Nd5,Bxd5,exd5,Qc7,Bc4,O-O,h5,Nd7,f4,Nb6,Qd3,a5,g5,a4,g6,h6,gxf7+,Rxf7,Rhg1,a3,b3,Bf6,Bd2,Nxc4,Qxc4,Bd4,Rg6,Qd7,Bxb4,Rxf4,Bc3,Be5,Qd3,Bxc3,Qxc3,Rh4,Rdg1,Rd4,Qg3,Ra7,Rxd6,Qf5,Rd8+,Kh7,Qg6+,Qxg6', 'hxg6#', 'https://lichess.org/training/F4na2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F4PqT', 'Classical', 'andgus68', 1842, 'rh06', 1834, 'c4,e5,Nc3,Nf6,g3,d5,Bg2,d4,Nd5,Nxd5,Bxd5,c6,Bg2,Na6,Nf3,f6,O-O,Bg4,d3,Bb4,a3,Ba5,b4,Bb6,c5,Bc7,Qb3,Qe7,Nd2,Bxe2,Re1,Bg4,Ne4,Be6,Qc2,O-O-O,Bd2,Bd5,a4,f5,Nd6+,Bxd6,cxd6,Qxd6,b5,Nb4,Bxb4,Qxb4,bxc6,b6,Rxe5,Bxg2,Kxg2,g6,Rae1,Qc3,Qa2,Qxc6+,f3,Qc3,Re7,Qb4,Rxa7,Qxe1', 'Qc4+,Kb8,Qc7#', 'https://lichess.org/training/F4PqT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F4Qpz', 'Rapid', 'vafa1331', 1964, 'Fouprendh7', 1935, 'e4,e5,f4,d5,Nc3,d4,Nce2,c5,d3,Nc6,fxe5,Nxe5,Bf4,Bd6,Bxe5,Bxe5,Nf3,Bc7,Qd2,Qf6,h3,Ne7,O-O-O,Ng6,Kb1,O-O,a3,b5,c4,b4,axb4,cxb4,Nexd4,Bf4,Qxb4,Be5,Nxe5,Nxe5,Nf3', 'Nxf3,gxf3,Qxf3,Bg2,Qxg2', 'https://lichess.org/training/F4Qpz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F4R39', 'Blitz', 'HenryChesspro', 2364, 'Biofeedback', 2335, 'e4,c5,b4,cxb4,a3,bxa3,Nxa3,Nc6,d4,d6,c3,g6,Bd3,Bg7,f4,Nf6,e5,Ng4,e6,Bxe6,d5,Bxd5,Bd2,Bxg2,Qxg4,Bxh1,Nf3,Bxf3,Qxf3,O-O,Nc2,e5,f5,d5,Qh3,e4,Be2,gxf5,Ne3,f4,Nf5,e3,Bd3,Ne5', 'Ne7+,Kh8,Qxh7#', 'https://lichess.org/training/F4R39');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f4Smq', 'Rapid', 'mexicanstaringfrog', 1836, 'DALEXGO', 1894, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,g3,fxg3,O-O,gxh2+,Kh1,Nh6,d4,O-O,Bxh6,gxh6,Ne5,d5,Bxd5,Be6,Bxb7,Nd7,Nxd7,Bxd7,Bxa8,Qxa8,Nc3,f5,Kxh2,fxe4,Rxf8+,Qxf8,Qg1+,Bg5,Rf1,Qd6+,Kh1,e3,Qh2,Qxd4,Qxc7,Qh4+,Qh2,Bc6+,Kg1', 'Qg4+,Qg3,Qxg3#', 'https://lichess.org/training/f4Smq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f4UAS', 'Blitz', 'arjunaaa', 1776, 'RunRabbitRun', 1568, 'e4,d6,d4,e6,c4,Nc6,Nf3,Bd7,Bd3,h6,Bf4,g5,Bg3,g4,Nfd2,h5,Nc3,Nf6,Qe2,a6,d5,Nd4,Qd1,e5,Nb3,Nxb3,axb3,b6,Qd2,a5,f3,Bh6,Qe2,Bf4,Bxf4,exf4,e5,dxe5,Qxe5+,Qe7,Qxe7+,Kxe7,Ne4,Nxe4,Bxe4,Kd6,O-O-O,gxf3,Bxf3,Bg4,Rhe1,Bxf3,gxf3,Kc5,Re4,Rag8,Rxf4,Rg2,Rd2,Rg1+,Kc2,Rd8,Rxf7,Rh1,Rxc7+,Kb4,f4,Rf1,Rf7,Rd6,Kd3,Rf3+,Ke4,Rxb3,Ke5,Rd8,Kf6,Kxc4,Rc7+,Kb4,d6,Rh3,f5,Rf8+,Kg6,Rg3+,Kxh5', 'Rh8+,Rh7,Rxh7#', 'https://lichess.org/training/f4UAS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f4UOz', 'Rapid', 'ronush', 1989, 'Bogi62', 2084, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Be2,d5,exd5,Nxd5,O-O,Be7,Bb5,Nxc3,dxc3,Bd6,Re1,Bg4,Qd5,O-O,Bxc6,bxc6,Qxc6,Rb8,b3,Rb6,Qe4,f5,Qd5+,Kh8,Bg5', 'Bxf3,Bxd8,Bxd5', 'https://lichess.org/training/f4UOz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F4y5u', 'Classical', 'TheKingCharlesCav', 1846, 'DonnaghGetFuqed', 1947, 'd4,d5,Bf4,Nc6,e3,e6,Nc3,a6,Nf3,Nf6,a3,Bd6,Ne5,Bd7,Bd3,g6,h3,b5,Bh2,Na5,b3,Nb7,Qe2,c5,Qd1,Qa5,Qd2,c4,b4', 'Bxb4,axb4,Qxa1+', 'https://lichess.org/training/F4y5u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5cbC', 'Classical', 'Balandos1978', 1620, 'OKALE', 1656, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Ne5,Bb3,Bc5,Qh5,Qf6,Bxf7+,Qxf7,Qxe5+,Qe7,Qh5+,Kd8,Ne2,Nf6,Qh4,Qxe4,Qg3,g5,Nc3,Qxc2,O-O,d6,Re1,Rf8,Bxg5,hxg5,Qxg5,Bg4,Qg7,d5,Nd4,Qxb2,Rac1,Bd7,Na4,Qxd4,Rxc5,Rg8,Qe7+,Kc8,Rxc7+,Kxc7,Rc1+,Kb8', 'Qd6#', 'https://lichess.org/training/F5cbC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f5CUt', 'Classical', 'samerpush', 1749, 'Kgcdr1', 1662, 'e4,c5,Nf3,d6,Bb5+,Nd7,c3,e6,O-O,Be7,d4,a6,Ba4,b5,Bc2,c4,Nbd2,Ngf6,b3,O-O,bxc4,bxc4,Nxc4,d5,Nce5,dxe4,Nxd7,Bxd7,Ne5,h6,a4,a5,Be3,Bd6,Nxd7,Qxd7,Re1,Rae8,Bd2,e5,Rb1,exd4,cxd4,Qa7,Be3,Bb4,Re2,Qd7,Bb3,Nd5,Bd2,e3,Bxb4,exf2+,Kxf2,Rxe2+,Qxe2,Re8,Qb5', 'Qf5+,Kg1,Qxb1+', 'https://lichess.org/training/f5CUt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5E7x', 'Classical', 'PedroAAA10', 1603, 'WolfeHeart', 1854, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Nc3,e6,Bf4,a6,Bd3,Bg6,Bxg6,hxg6,Qd3,Nc6,a3,Bd6,Qe3,Nge7,Bg5,Qc7,Bxe7,Nxe7,g3,O-O-O,O-O-O,Kb8,Kb1,Nf5,Qe2,Bxa3,Qd3,Be7,Na4,Nd6,Ne5,Bf6,f4,Ne4,Rhf1,Rxh2,Nc5,Nf2,Qb3,Nxd1', 'Nxa6+,Kc8,Nxc7', 'https://lichess.org/training/F5E7x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f5fJH', 'Rapid', 'Sandoodlee', 1644, 'antkioup', 1623, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Bg5,Be7,Bxf6,Bxf6,c3,Qe7,Bd3,Nxd4,cxd4,Bxd4,Nc3,Bxc3+,bxc3,d6,Qa4+,c6,O-O,O-O,Rae1,Qg5,f4,Qg6,f5,Qf6,c4,Qd4+,Kh1,Qxd3,Qb4,Qd4,Rd1,Qxe4,Qxd6,Qe2,Rfe1,Qf2', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/f5fJH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5FSS', 'Blitz', 'GM adiosabu23', 2452, 'FM nilwil', 2456, 'd4,Nf6,c4,c5,Nc3,cxd4,Qxd4,Nc6,Qd2,g6,b3,Bg7,Bb2,O-O,g3,b6,Bg2,Bb7,Nh3,Rc8,O-O,d6,Nf4,Na5,Bxb7,Nxb7,Rad1,Nc5,f3,Qc7,Ncd5,Nxd5,Nxd5,Qb7,Bxg7,Kxg7,Qg5,Rfe8,Rd4,Ne6,Qd2,Nxd4,Qxd4+,Kg8,h4,b5,h5,bxc4,bxc4,f6,hxg6,hxg6,Qg4,Kg7,Nf4,g5,Kg2,Rh8,Ne6+,Kf7,Qf5,Rcg8,Rb1,Qc6,Rc1,g4,c5,gxf3+,exf3,dxc5,Nxc5,Qd6,Ne4,Qe5,Qxe5,fxe5,Rc7,Rb8,Rxa7,Rb2+,Kg1,Rc8', 'Nd6+,Kf6,Nxc8', 'https://lichess.org/training/F5FSS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5G6b', 'Rapid', 'MarioCrippa', 1916, 'Indonesian-GM', 2397, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,a6,Bxd7+,Bxd7,Nf3,Qf6,O-O,Bg4,d3,Bxf3,Qxf3,Bd6,Qg3,Ne7,Nc3,h6,Be3,O-O,f4,exf4,Bxf4,Bxf4,Rxf4,Qb6+,Qf2,f6,Rb1,Rfd8,Ne2,Nc6,Nc3,Rac8,Qxb6,cxb6,Nd5,b5,c3,Re8,Rbf1,Ne7,Nxe7+,Rxe7,d4,Rce8,Re1,Rd8,Kf2,b4,Kf3,Rc7,Re3,bxc3,bxc3,Rdc8,e5,fxe5,Rxe5,Rxc3+,Ke4,Rc2,Rg4,Kh7,h3,b5,Kd3,Kg8,Re7', 'R8c3+,Ke4,Re2+,Kf5,Rxe7', 'https://lichess.org/training/F5G6b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5IQc', 'Rapid', 'Sir-S', 2067, 'Hartl', 1633, 'e4,e5,Nf3,d6,Bb5+,c6,Bc4,b5,Bd3,Nf6,O-O,Nbd7,b4,Be7,Bb2,O-O,a4,Ba6,axb5,Bxb5,Bxb5,cxb5,Nc3,a5,Nxb5,Nxe4,d3,Nef6,bxa5,Qb8,c4,d5,Qb3,Nc5,Qc3,d4,Qc2,Ne6,Rfe1,Rc8,Nxe5,Qxb5,cxb5,Rxc2,Nc6,Nd5,Nxe7+,Kf8,Nxd5,Rxb2,Reb1,Rxa5,g3,g5,Rxa5,Rxb1+,Kg2,h5,b6,h4,Ra8+,Kg7,Ra7,hxg3,hxg3,Kg6,b7,Nc5,Ne7+,Kh5,Ra8,Rxb7', 'Rh8+,Kg4,f3#', 'https://lichess.org/training/F5IQc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f5Jia', 'Rapid', 'Emmanuel2110', 1692, 'Grandayo', 1730, 'c4,e5,Nc3,Nf6,g3,Be7,Bg2,c6,Nf3,O-O,O-O,d6,d4,Nbd7,dxe5,Nxe5,Nxe5,dxe5,b3,Bg4,f3,Qb6+,Kh1,Be6,Bb2,Rad8,Qe1,Bxc4,bxc4,Qxb2,Rb1,Qd2,Qxd2,Rxd2,Rxb7,Rc2,Rxe7,Rxc3,Rxa7,Rxc4,e4,Rc2,Kg1,Rc8,Rf2,Rc1+,Rf1,Rxf1+,Bxf1,c5,Bc4,Kf8,Kf2,Ke8,Ke3,Nd7,Bb5,Rd8,Rc7,Ke7,Bxd7,Rxd7,Rxc5,Ra7,Rxe5+,Kf6,Rf5+,Ke6,h4,Rxa2,f4,g6,Re5+,Kf6,g4,Ra3+,Kd4,Rh3,g5+,Kg7,f5,Rxh4,fxg6,hxg6,Kd5,f6', 'Re7+,Kf8,gxf6', 'https://lichess.org/training/f5Jia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f5kJN', 'Classical', 'dimitri_orga', 1747, 'burakyol', 1850, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,c6,Bg5,Be7,Qd2,Bd7,O-O-O,c5,Nf5,Nxe4,Nxg7+,Kf8,Bxe7+,Qxe7,Nxe4,Qxe4,Re1,Qg6,Qxd6+,Kg8,Qxg6,hxg6,Ne8,a6,Nd6,b5,Re7,Be6,Bd3,Nc6,Rc7,Nb4,Rxc5,Rd8,a3', 'Nxd3+,cxd3,Rxd6', 'https://lichess.org/training/f5kJN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f5MpD', 'Rapid', 'wild-king-winner', 1980, 'bigfatlazycat', 1889, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,c6,d4,f6,dxe5,fxe5,Bb3,Nd7,c4,Nc5,Qe2,Bg4,Bc2,h5,b4,Ne6,Be3,g5,Rd1,Nf4,Bxf4,gxf4,h3,Bxf3,Qxf3,Nf6,c5,Qc7,cxd6,Bxd6,a3,O-O-O,Nc3,Rhg8,Bb3,Rg7,Be6+,Kb8,Rac1,Qe7,Bf5,Rdg8,Kf1,Rxg2,Qxg2,Rxg2,Kxg2,Bc7,Rd3,a5,Na2,axb4,Nxb4,Ba5,Rxc6,Bxb4,Rc8+,Ka7,axb4,Qxb4,f3,Qb2+,Kf1,Qb1+,Ke2,Qb2+,Rd2,Qb3,Rd3,Qa2+,Kd1,Qb1+,Kd2,h4,Ra3+,Kb6,Rcc3,Qb2+,Kd3,Qf2,Rab3+,Ka6,Ra3+,Kb6,Rcb3+,Kc7,Kc4,Qd4+,Kb5,Ne8,Rc3+,Kd6,Rd3', 'Nc7+,Ka5,b6#', 'https://lichess.org/training/f5MpD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f5mSv', 'Blitz', 'BeamerTheGreat', 2267, 'Kakarottheslayer', 2284, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,Nxe5,Nxe5,d4,Bxd4,Qxd4,f6,f4,N5c6,Qd1,O-O,Nc3,a6,Bc4+,Kh8,Qh5,d6,f5,Ne5,Bb3,c5,Rf4,Qe8', 'Qxh7+,Kxh7,Rh4+,Qh5,Rxh5#', 'https://lichess.org/training/f5mSv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f5NKN', 'Rapid', 'MUSERNST', 1836, 'ulex58', 1818, 'e4,c5,Nf3,e6,d4,a6,c3,Nc6,Be3,d5,exd5,cxd4,dxc6,dxe3,Qxd8+,Kxd8,Ne5,exf2+,Kxf2,Nh6,b4,f6,c7+,Kxc7,Nc4,Ng4+,Kg3,e5,Be2,h5,h4,b5,Nca3,Bd6,Rd1,e4+,Rxd6,Kxd6,Nd2,Re8,Rd1,Kc6,Nc2,g5,Nd4+,Kb6,c4,Ne3,Re1,g4,cxb5,axb5,Bxb5,Rd8,N2b3,Nf5+,Nxf5,Bxf5,a4,Rac8,Nc5,Rd4,Kf4,Bg6,Bd7,Ra8,a5+,Ka7,b5,Be8', 'b6+,Kb8,Bxe8', 'https://lichess.org/training/f5NKN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5NsC', 'Rapid', 'cankoki', 1838, 'Sholm', 1842, 'e4,c5,a3,g6,b4,Bg7,c3,Nc6,bxc5,Nf6,Qc2,Qa5,Ne2,Qxc5,d4,Qb6,Be3,Ng4,Bd2,d6,h3,Nf6,Be3,Qc7,Ng3,Bd7,Bc4,Rc8,Bb3,Na5,Ba4,O-O,Bxd7,Nxd7,O-O,Nc4,Ne2,Ndb6,Rc1,Nxe3,fxe3,Nc4,Qd3,Bh6,Nf4,e5,Nd5,Qd8,Nd2,Nxd2,Qxd2,Qh4,Rab1,Qxe4', 'Nf6+,Kh8,Nxe4', 'https://lichess.org/training/F5NsC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f5NVn', 'Classical', 'BrocktonBlockbuster', 1967, 'niklos', 1993, 'e4,c5,Nc3,e6,f4,Nc6,Bb5,Nge7,Nf3,d6,O-O,a6,Bxc6+,Nxc6,d3,Qc7,Be3,b5,Qe1,b4,Ne2,Be7,Qg3,O-O,Rad1,Bf6,d4,cxd4,Nexd4,Nxd4,Nxd4,Bb7,Qf3,Bxd4,Bxd4,Qxc2,Qg4,g6,Rde1,e5,fxe5,dxe5,Bxe5', 'Qc5+,Rf2,Qxe5', 'https://lichess.org/training/f5NVn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f5o25', 'Blitz', 'minasamy', 1531, 'Chamsbensassi', 1803, 'd4,Nf6,e3,b6,Qf3,c6,c3,d5,Bd3,Bg4,Qg3,h5,h4,Ne4,Bxe4,dxe4,Nd2,Qd5,Qc7,Na6,Qb7,c5,Qxd5,Rd8,Qxe4,cxd4,cxd4,Nc7,Qc6+,Rd7,Ngf3,f6,e4,g6,e5,Bg7,e6,Nxe6,Qa8+,Rd8,Qxa7,O-O,Qxb6,Nf4,O-O,Ne2+,Kh1,Rb8,Qc7,Rfe8,b3,Rbc8,Qa5,f5,Ba3,Nxd4,Nxd4,Bxd4,Rac1,f4,Rxc8,Rxc8,Qg5,Bf5,Bxe7,Bg7,Bf6,Rc2,Bxg7,Kxg7,Qe7+,Kh6,Nc4,Rxa2,Qg5+,Kg7,Ne5,Ra7,b4,Rb7,Rb1,Bxb1,Qxf4,Bf5,Nc6,Rd7,b5,Rd1+,Kh2,Rd7,b6,Rb7,Qb4,Kh6,Nd8,Rb8,b7,Bd7,Nf7+,Kg7,Nd6,Bc6,Qd4+,Kh6,Nf7+,Kh7,Qh8+,Rxh8,Nxh8,Bxb7,Nf7,Bd5,Ng5+,Kg7,Nf3,Bxf3,gxf3,Kf6,Kg3,Kf5,f4,Ke4,f3+,Kd5,Kf2,Kd4,Ke2,Kd5,Ke3,Ke6,Ke4,Kf6,Kd4,Kf5,Ke3,Kf6,Ke4,Ke6,f5+,gxf5+,Kf4,Kf6,Kg3', 'Ke5,Kf2,Kf4,Ke2,Kg3', 'https://lichess.org/training/f5o25');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5pRb', 'Bullet', 'rhlshrma888', 1742, 'AndreyKurdyubov', 1731, 'd4,c5,e3,Nf6,Nf3,e6,Be2,cxd4,exd4,Be7,O-O,O-O,c4,d5,Nc3,dxc4,Bxc4,Nc6,a3,a6,d5,exd5,Nxd5,Nxd5,Bxd5,Bg4,h3,Bxf3,Qxf3,Rc8,Rd1,Qb6,b4,Bf6,Rb1,Nd4,Qg4,Rfe8,Bb2,Ne2+,Kh1,Nc3,Bxc3,Rxc3,Qd7,Rf8,Qxb7,Qxf2,Rf1,Qd2,Rbd1,Qh6,Bxf7+,Rxf7,Rd8+,Rf8', 'Qd5+,Kh8,Rxf8#', 'https://lichess.org/training/F5pRb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5qGs', 'Rapid', 'EmileChesky', 1734, 'Bally_000', 1718, 'd4,d5,Bf4,c6,e3,Nf6,c4,Bf5,Nc3,e6,a3,h6,Nf3,Be4,Ne5,Be7,Bd3,Bxd3,Qxd3,dxc4,Nxc4,Nbd7,Ne5,Nxe5,Bxe5,O-O,O-O,Ng4,Bg3,Bf6,h3,Ne5,Bxe5,Bxe5,Rad1,Bf6,Ne4,Be7,Qb3,b6,Rc1,Rc8,Qa4,a5,Rxc6,Qd5,Rxc8,Rxc8,Nc3,Qg5,Qd7,Rd8,Qc7,Bf6,Rd1,e5,d5,Qf5,Qxb6,Qh5,Qxa5,Rb8,Rb1,e4,Qc5,Be5,d6', 'Bh2+,Kxh2,Qxc5', 'https://lichess.org/training/F5qGs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5Qtm', 'Rapid', 'bravedog', 1783, 'lamaval', 1804, 'd4,Nf6,g3,d5,Bg2,c6,Nf3,Bf5,a3,e6,b4,h6,Bb2,Nbd7,Nbd2,Be7,c4,O-O,c5,b6,O-O,a6,Re1,a5,Ne5,Nxe5,dxe5,Nd7,e4,dxe4,Nxe4,bxc5,Nd6,axb4,axb4,Rxa1,Bxa1,Bxd6,exd6,cxb4,Bxc6,Re8,Qd4,e5,Qxb4,f6,Bxd7,Qxd7,Qc4+,Be6,Qc7,Rd8,Rd1', 'Qxc7,dxc7,Rxd1+', 'https://lichess.org/training/F5Qtm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5Qza', 'Blitz', 'Le_Scratch', 1738, 'shirin2o17', 1730, 'e4,e6,Nc3,d5,f4,c5,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,d4,Ne2,Nf6,d3,Qb5,O-O,Nc6,a4,Qb6,Qe1,Nb4,Qh4,Nxc2,Rb1,Be7,f5,Nd5,Bg5,Bxg5,Nxg5,Nde3,fxe6,Nxf1,exf7+,Kf8,Nxh7+,Kxf7,Rxf1+,Kg8,Qe7,Rxh7', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/F5Qza');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5saP', 'Rapid', 'ZikaBre', 1686, 'Svaddadi', 1630, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,O-O,Nf6,c3,dxc3,Nxc3,d6,Nd5,Bg4,Qb3,b6,Bg5,Bxf3,Nxf6+,gxf6', 'Bxf7+,Kf8,Bh6+,Ke7,Qe6#', 'https://lichess.org/training/F5saP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f5SKD', 'Rapid', 'aquarius025677', 1826, 'marzimante', 1828, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e5,Bc4,Bb4,O-O,h6,Qe2,Nf6,Rd1,O-O,Nb5,d6,a3,Bc5,b4,Nd4,Nbxd4,Bxd4,Nxd4,exd4,Rxd4,Re8,e5,Rxe5,Qxe5,Ng4,Rxd6,Qh4,Qe8+,Kh7,Bd3+,f5,Qg6+,Kh8,h3', 'Qxf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/f5SKD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f5Sm9', 'Bullet', 'Smyslov87', 1721, 'Jolei', 1622, 'd4,e6,Bf4,c5,e3,Nc6,c3,d5,Nf3,f6,Bd3,g6,Nbd2,Nge7,O-O,Nf5,h3,cxd4,exd4,Bd6,Bxd6,Qxd6,Bxf5,gxf5,Re1,Bd7,Nf1,O-O-O,a4,Rhg8,a5,a6,b4,Na7,Qc2,Bb5,N1d2,Rg7,c4,Bc6,cxd5,exd5,Rab1,Rdg8,g3,Rxg3+,fxg3', 'Qxg3+,Kf1,Qg2#', 'https://lichess.org/training/f5Sm9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5sRF', 'Bullet', 'MadMan_MK', 2015, 'paulorek', 1992, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d3,c5,Nf3,Nc6,Be2,Bd6,O-O,O-O,Bg5,h6,Bh4,Qe7,Re1,Rad8,Nc3,a6,a4,Rfe8,Bf1,Nb4,Ne4,g5,Nxd6,Qxd6,Bg3,Qd7,Qd2,Bf5,Nxg5,Nxd3,Rxe8+,Rxe8,Nf3,Rd8,Qxh6,Bg6,Rd1,Qxa4,Rxd3,Rxd3,Ne5,Rd1,Nxg6', 'Rxf1+,Kxf1,Qd1#', 'https://lichess.org/training/F5sRF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5uBx', 'Rapid', 'hamir', 1790, 'nickbellamossa', 1802, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,a3,Be7,Be2,d6,O-O,O-O,f4,a6,Kh1,e5,Nxc6,bxc6,fxe5,dxe5,Be3,Bb7,Bd3,Qe8,Qe2,Bc8,Bc4,Ng4,Bg1,a5,Rf3,Nf6,h3,Nh5,Be3,Bh4,Raf1,Ng3+,Rxg3,Bxg3,Qf3,Bf4,Bxf4,exf4,Qxf4,Be6,Bd3,Qe7,e5,f5,Ne2,g5,Qf2,c5,b3,Kh8,Ng3,Rad8,Re1,g4,Nxf5,Bxf5,Bxf5,Qg5,hxg4,Qxg4,Bxg4,Rxf2,e6,Re8,e7,Rf4', 'Bd7,Rxe7,Rxe7', 'https://lichess.org/training/F5uBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5xBu', 'Rapid', 'TicTacRulz', 1766, 'Blancacapa', 1733, 'e4,e5,f4,d6,fxe5,dxe5,Nf3,Bd6,Bc4,Be6,Bxe6,fxe6,O-O,Nc6,d4,exd4,Nxd4,Qh4,Nf3,Qe7,Nc3,O-O-O,Qe2,h6,Be3,Nf6,Nb5,b6,Nxd6+,Rxd6,Rad1,h5,Rxd6,Qxd6,e5,Nxe5,Rd1,Nxf3+,Qxf3,Nd5,c4,Rf8,Qe2,Nf4,Bxf4,Qxf4,Qxe6+,Kb8,Qe7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/F5xBu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5xEg', 'Rapid', 'zoom619', 1775, 'tonycastles', 1766, 'd4,d5,Bf4,b6,Nf3,Bb7,e3,Nd7,Bd3,f6,c3,e5,dxe5,fxe5,Bg5,Be7,Bxe7,Qxe7,Bb5,e4,Nd4,Nf6,Nd2,O-O-O,Bc6,Ne5,Qa4,Nxc6,Nxc6,Bxc6,Qxc6,Rhf8,h3,Rd6,Qa4,Kb7,Nb3,c5,O-O-O,c4,Nd4,Nd7,Rhf1,Nc5,Qa3,Nd3+,Rxd3,exd3,Nb5,Rfd8', 'Qxa7+,Kc8,Qxe7', 'https://lichess.org/training/F5xEg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F5Z5a', 'Classical', 'poeticsoul', 1848, 'NomanNowhere', 1858, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,f3,Be7,Be3,a6,O-O-O,b5,Kb1,Bb7,Qb4,d5,Bxb5+,axb5', 'Qxb5+,Qd7,Qxb7', 'https://lichess.org/training/F5Z5a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f60Km', 'Classical', 'helmy_akram18', 1658, 'Norman6', 1685, 'd4,Nf6,Nf3,d5,g3,Bg4,Bg2,e6,O-O,c5,h3,Bh5,g4,Bg6,Nc3,Qb6,Ne5,cxd4,Nxg6,hxg6,Na4,Qb4,b3,b5,Nb2,Bd6,Nd3,Qc3,Bb2,Qc7,Bxd4,Nc6,Bxf6,gxf6,e4,dxe4,Bxe4,Rxh3,a4,Ke7,axb5,Rah8,bxc6,Bh2+,Kg2', 'Rg3+,fxg3,Qxg3+,Kh1,Bg1#', 'https://lichess.org/training/f60Km');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f62bj', 'Classical', 'pawnpawer', 1948, 'theduynx', 1949, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,d6,Bc4,Ne5,Bb3,Be7,O-O,O-O,f4,Nc6,Nxc6,bxc6,e5,Ne8,Qh5,Be6,f5,Bxb3,axb3,dxe5,Be3,Nf6,Qf3,e4,Nxe4,Nxe4,Qxe4,Bf6,Qxc6,Bxb2,Rxa7', 'Bd4,Rxa8,Bxe3+,Kh1,Qxa8,Qxa8,Rxa8', 'https://lichess.org/training/f62bj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F64g0', 'Blitz', 'elfixxx7', 2050, 'devil123', 2005, 'e4,c5,Nf3,Nc6,Bb5,Qb6,Nc3,e6,O-O,Nd4,Bc4,Nxf3+,Qxf3,d6,d3,Be7,Qg3,Bf6,Kh1,Bd7,f4,O-O-O,Qf2,Bc6,Bd2,Nh6,a3,Bd4,Qe1,Ng4,b4,cxb4,axb4,Nf2+,Rxf2,Bxf2,Qb1,Bd4,Ra3,d5,exd5,exd5,Ba2,Be3,Bxe3,Qxe3,b5,Bd7,Nxd5,Qc5', 'Rc3,Qxc3,Nxc3', 'https://lichess.org/training/F64g0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f67w3', 'Rapid', 'leonardox', 1667, 'ivantrojok', 1639, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,Nc3,Nf6,Bxc6+,bxc6,d4,exd4,Nxd4,Qd7,Re1,O-O,Be3,Ng4,h3,Nxe3,Rxe3,f5,Qd2,f4,Rf3,Bxd4,Qxd4,c5,Qd5+,Kh8,Qxa8,Qe6,Qxa7,Kg8,Qxc7,Ba6,Re1,Bc4,Rd1,d5,e5,d4,b3,Ba6,Na4,Be2,Nxc5,Qg6,Rxf4,Rxf4,Qd8+,Rf8,Qd5+,Kh8,Re1', 'Bf3,Qxf3,Rxf3', 'https://lichess.org/training/f67w3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F68ta', 'Blitz', 'nurik8940', 1864, 'FARHAN04', 1795, 'e4,e5,Nf3,d6,h3,Nc6,c3,Nf6,Bd3,g6,O-O,Be7,a3,O-O,Bc2,d5,d3,d4,c4,Bc5,Bh6,Re8,Bg5,Be7,b4,a6,Nh2,Nh5,Bd2,b5,c5,a5,g4,Nf4,Qf3,a4,Bxf4,exf4,Qxf4,f6,Nf3,g5,Qg3,h6,Nbd2,Be6,e5,fxe5,Nxe5,Bf6,Nxc6,Qd5,Na5,Ra6,Ne4,Be5,Qf3,Rf8,Qe2,Rf4,Bb1,h5,Ba2,hxg4,Bxd5,Bxd5,hxg4,Raf6,Rae1,Bxe4,dxe4,c6,Qa2+,Kg7,Nxc6', 'Rxg4+,Kh1,Rh6#', 'https://lichess.org/training/F68ta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F68yK', 'Rapid', 'forge82', 2090, 'm_f_campbell', 2101, 'e4,g6,d4,Bg7,f4,d6,c4,Nd7,Nc3,e5,d5,exf4,Bxf4,Ne7,Nf3,O-O,Be2,f5,exf5,Nxf5,O-O,Nc5,Qc2,Nd4,Qd2,Nxe2+,Nxe2,Qf6,Bh6,Qxb2,Bxg7,Qxg7,Rae1,Bg4,Ned4,Bxf3,Rxf3,Rxf3,Nxf3,Rf8,Qa5,a6,Qd2,h6,Qe3,Kh7,Nd4,Qf6,Ne6,Nxe6,dxe6,Re8,e7,b6,Qe4,a5,a4,Kg7,h4,Qf5,Qd4+,Kf7', 'Rf1,Qxf1+,Kxf1', 'https://lichess.org/training/F68yK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F6A86', 'Rapid', 'AJ1958', 1629, 'Luqwizzle', 1675, 'e4,e5,f4,exf4,Nf3,Qf6,Bc4,Nh6,Nc3,Qg6,O-O,Be7,Nd5,Kd8,d3,d6,e5,Bh3,Rf2,Ng4,gxh3', 'Ne3+,Kh1,Nxd1', 'https://lichess.org/training/F6A86');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F6bAg', 'Rapid', 'Attytiger', 1938, 'Amihanray', 1943, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,e5,d5,exd6,Qxd6,O-O,Bg4,Re1,O-O-O,a3,f6,Nbd2,Ne5,Ne4,Qc6', 'Nxe5,fxe5,Qxg4+', 'https://lichess.org/training/F6bAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6CU9', 'Classical', 'jibetronek', 1851, 'Zorbek', 1833, 'g3,d5,Bg2,e5,b3,f5,Bb2,Nc6,Nf3,Bd6,Na3,Nf6,Nb5,O-O,O-O,e4,Nfd4,Nxd4,Nxd6,Nxe2+,Qxe2,Qxd6,Rfe1,f4,gxf4,Qxf4,h3,Bf5,c4,c6,Rac1,Rad8,Qe3,Qh4,Be5,Rfe8,Bg3,Qh5,cxd5,cxd5,Qxa7,Bxh3,Qa6,Bxg2,Kxg2,Qf3+,Kg1,h5,Qf1,Qg4,Qg2,d4,Kh1,Rd5,Rg1,e3,fxe3,dxe3,dxe3,Rxe3,Rc8+,Kh7,Qh2,Qf3+,Qg2,Qf5,Bf4,Ng4', 'Bxe3,Qxc8,Qxd5', 'https://lichess.org/training/f6CU9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6DJy', 'Rapid', 'tdekoekkoek', 1815, 'Gaudibaer', 1777, 'e4,e5,Nf3,d6,Bc4,Bg4,c3,Qf6,d4,Bxf3,gxf3,Nd7,Be3,g6,Nd2,Bh6,Qb3,Bxe3,fxe3,Nb6,O-O-O,O-O-O,Bxf7,exd4,cxd4,Ne7,Rhf1,Rhf8,Be6+,Kb8,a4,a6,a5,Na8,e5,dxe5,Ne4,Qh4,Nc5,b5,Nxa6+,Ka7,Nc5,c6,e4,exd4,Rd2,Qf4,Kd1,Qd6,Nd3,Nc7,Bh3,Na6,Rc2,Rf6', 'e5,Qd5,Qxd5', 'https://lichess.org/training/f6DJy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F6fPu', 'Rapid', 'Schiocca', 1746, 'RX888', 1647, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,Nf3,Nxe4,Be2,Qf6,d3,Nc5,Bg5,Qxb2,Nbd2,Na4,Nc4,Qb4+,Qd2,Qb5,O-O,d5,Rab1,Qa6,Rfe1,Be6,Nfe5,dxc4,Nxf7,Kxf7,dxc4,Nc6,c5,Qa5,Bh5+,g6', 'Qf4+,Kg8,Rxe6', 'https://lichess.org/training/F6fPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6Hny', 'Rapid', 'fisher_gary', 1734, 'christophernagy', 1705, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Na3,cxd4,Nxd4,Nxd4,Qxd4,Qxd4,cxd4,Bb4+,Bd2,Bxd2+,Kxd2,a6,Rc1,Bd7,Rc7,Ne7,Rxb7,Nc6,Rb6,Nxd4,Rxa6,Rxa6,Bxa6,O-O,Rc1,Nc6,f4,Nb4,Rc7,Rd8,Nc2,Nxa6,Ra7,Nc5,b4,Ne4+,Kd3,Bb5+,Ke3,g6,Nd4,Bc4,a4,Rb8,Nc6,Rb6,b5,Bxb5,axb5,Rxb5,Ne7+,Kg7,Ra8,Rb3+,Ke2,Rb2+,Kf3,f5,Ra7,Kh6', 'Ng8+,Kh5,Rxh7#', 'https://lichess.org/training/f6Hny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F6HTh', 'Rapid', 'dp23650', 1784, 'mariner9', 1817, 'd4,b6,c4,e6,Nc3,Bb7,e3,c6,Nf3,d5,b3,Nf6,Bb2,Ne4,Nxe4,dxe4,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/F6HTh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6OIr', 'Blitz', 'hawaiif', 1869, 'WIM ajam73', 2055, 'd4,Nf6,c4,e5,Nc3,exd4,Nb5,Nc6,Nxd4,Bb4+,Bd2,Qe7,Nxc6,dxc6,e3,O-O,Nf3,Ne4,a3,Nxd2,Nxd2,Bxd2+,Qxd2,Rd8,Qc2,Be6,Be2,Rd7,O-O,Rad8,Rad1,g6,Rxd7,Rxd7,Rd1,c5,Rxd7,Qxd7,Qd3,Qa4,g3,c6,h4,h5,Qc3,b5,cxb5,cxb5,Qxc5,Qb3,Qc3,Qa2,Kg2,Bd5+,Bf3,Bxf3+,Kxf3,Qd5+,e4,Qd7,Ke3,a6,Qd4,Qe6,Qd5,Qf6,e5,Qb6+,Qd4,Qc6,Qc3,Qd5,f4,Qg2,Kd4,Qf2+,Kd5,Qg2+,Kc5,Qb7,Kb4,Qb6,Qc5', 'a5+,Kc3,Qxc5+', 'https://lichess.org/training/f6OIr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6PdJ', 'Rapid', 'Umarsalik', 2075, 'XausY', 2060, 'e4,c6,d4,d5,e5,Bf5,Ne2,e6,Ng3,Bg6,Bd3,c5,c3,Nc6,O-O,Qh4,Be3,Nh6,h3,Be7,Na3,c4,Bxg6,hxg6,Nc2,Nf5,Nxf5,gxf5,Ne1,g5,f3,O-O-O,b3,cxb3,axb3,Rdg8,Nd3,g4,fxg4,fxg4,hxg4,Qh2+,Kf2,Bh4+,Ke2,Qxg2+,Nf2,Rxg4,Rg1,Qxg1,Qxg1,Rxg1,Rxg1,Kd7,Rh1,Bf6', 'exf6,Rxh1,Nxh1', 'https://lichess.org/training/f6PdJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6Qzz', 'Classical', 'ZestyX', 1724, 'The__Bodhisattva', 1692, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Bc4,Be7,O-O,O-O,Nce2,Nxe4,Bxe7,Qxe7,Qd3,Nc5,Qh3,e5,Nf5,Qf6,Neg3,b5,Bd5,Ra7,b4,Ne6,Be4,Nf4', 'Ne7+,Kh8,Qxh7#', 'https://lichess.org/training/f6Qzz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6roq', 'Rapid', 'parraiza', 1642, 'Fernanduski', 1603, 'e4,e6,d4,d5,exd5,exd5,Nc3,c5,Nf3,Nc6,Bb5,Bg4,h3,Be6,Ne5,Ne7,Nxc6,Nxc6,Be3,a6,Bxc6+,bxc6,dxc5,Be7,O-O,Bf6,Bd4,O-O,Bxf6,Qxf6,Qd2,Qg6,Qe3,Rab8,b3,Rb4,Qg3,Qxc2,Na4,d4,Rfc1,Qf5,Nb2,Rd8,Nd3,Rb7,Nf4,d3,Nxe6,fxe6,Qh4,Rbd7,g4,Qf4,Rd1,Rf8,Rac1,d2,Rc4,Rd4,Rxd4,Qxd4,Qg3,e5,Kg2,Rd8,Qe3,Qb2,Qe2,Qxa2,Qc4+,Kh8,Qe6,Qc2,Qe7,Rg8,Qd6,Qe4+,Kg3,Qf4+,Kg2,h5,Rxd2,hxg4,hxg4,Qxg4+,Kf1,e4', 'Qh2+,Qh3+,Qxh3#', 'https://lichess.org/training/f6roq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F6rYI', 'Rapid', 'mo9999', 1941, 'LLLCCC', 1753, 'd4,d5,c4,dxc4,e4,Nc6,d5,Ne5,f4,Bg4,Nf3,Bxf3,gxf3,Nd3+,Bxd3,cxd3,Qxd3,e6,Nc3,exd5,Qxd5,Qxd5,Nxd5,O-O-O,Be3,c6,Rc1,Kb8,Nc3,Nf6,e5,Nd5,Nxd5,Rxd5,O-O,f5,Rfd1,Rxd1+,Rxd1,Bb4,a3,Ba5,b4,Bb6,Bxb6,axb6,Rd7,g6,e6,Kc8,Rf7,c5,e7,Kd7', 'Rf8,Kxe7,Rxh8', 'https://lichess.org/training/F6rYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F6sbF', 'Rapid', 'cehaujot', 1786, 'killingmenoob', 1767, 'd4,d5,c4,dxc4,e4,e6,Bxc4,c5,d5,exd5,Bxd5,Ne7', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/F6sbF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6UKq', 'Rapid', 'srknynk0657', 1633, 'GUINOUARD', 1629, 'e4,e5,Nf3,Bd6,a3,a6,b4,b5,c4,c6,c5,Bc7,d3,a5,Qb3,d6,Ng5,Nh6,Nf3,Be6,Qc2,axb4,Bxh6,gxh6,cxd6,Bxd6,Be2,b3,Qd2,Qe7,O-O,Bxa3,Nxa3,Rxa3,Rxa3,Qxa3,Nxe5,b2,h3,Ba2,Qf4,Rf8,Bh5,Nd7,Nxd7,Kxd7,Bg4+,Kd8,Qf6+,Qe7,Qxb2,h5,Bxh5,Be6,Qd4+,Ke8,Ra1,Qb7,Ra7,Qc8,Bf3,Rg8,g4,h5,e5,hxg4,hxg4,Bd5,Bxd5', 'Rxg4+,Qxg4,Qxg4+', 'https://lichess.org/training/f6UKq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6Vys', 'Rapid', 'BND', 2071, 'Jennifers', 1828, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Be7,Nc3,O-O,Bd3,Nxe5,Rxe5,Bf6,Re1,b6,Ne4,Bb7,Nxd6,cxd6,Be4,Bxe4,Rxe4,Rc8,d3,Be5,f4,Bf6,c3,b5,Rd4,Bxd4+,cxd4,Qf6,Be3,Rfe8,Qd2,Rc6,d5,Rc7,Rf1,Rec8,Qb4,Qg6,Qxb5,Rc2,Bf2,Qg4,h3,Qxf4,Qxd7,h6,Bxa7,Rc1', 'Qxc8+,Rxc8,Rxf4', 'https://lichess.org/training/f6Vys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F6Xdc', 'Rapid', 'aleksaan', 1971, 'BrunoRola', 1984, 'd4,f5,Bf4,e6,Nf3,Nf6,h3,Bd6,Ne5,O-O,e3,b6,Nd2,Bb7,Ndc4,Qe7,Nxd6,cxd6,Nf3,Nc6,Bd3,e5,dxe5,dxe5,Bc4+,Kh8,Bh2,Rad8,Qe2,d5,Bb3,Rfe8,O-O-O,a5,Qb5,Ne4,Rxd5,Rxd5,Bxd5,Na7,Qxe8+,Qxe8,Bxb7,Nc5,Bd5,f4,exf4,exf4,Bxf4,h6,Re1,Qh5,Re5,Qg6,Nh4,Qf6,Re8+,Kh7,Bg3', 'Qg5+,Re3,Qxd5', 'https://lichess.org/training/F6Xdc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F6Y7G', 'Blitz', 'Deo_Gorakhpuri', 1727, 'cesarguadalupe', 1888, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Nxc3,a6,Bc4,d6,h3,Be7,O-O,Nf6,Bf4,O-O,a3,b5,Ba2,Bb7,Qc2,Nh5,Bh2,Bf6,Rad1,Ne5,Nxe5,Qe7,Nd5,Bxd5,Rxd5,dxe5,Rfd1,Rad8,Qc6,h6,Qxa6,Ra8,Qxb5,Rfb8,Qe2,Bg5,Rxe5,Qf6,Qxh5,Rxb2,Bd5', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/F6Y7G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6Yud', 'Blitz', 'Masha1709', 1647, 'Roman50', 1940, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,O-O,f3,e6,Bg5,Qe8,e5,Nh5,g4,f6,Bh4,Nf4,Nb5,Na6,Ne2,Nxe2,Qxe2,fxe5,dxe5,Qf7,Bg2,h6,O-O,g5,Bg3,Qg6,f4,gxf4,Rxf4,Rxf4,Bxf4,c6,Be4,Qf7,Rf1,cxb5,cxb5,Nc5,Be3,Qe7,Bg6,d6,Rf7,Qd8,Qf2,Bxe5,Bxh6,Nd7,Rxd7,Bxd7', 'Qf7+,Kh8,Qh7#', 'https://lichess.org/training/f6Yud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6zsC', 'Rapid', 'Zwetschgengott', 1731, 'Watifoufou', 1664, 'd4,d6,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,Re1,Nc6,c4,e5,dxe5,dxe5,Nc3,Be6,b3,Qe7,a3,Rad8,Qc2,Bf5,e4,Be6,Be3,Nd4,Qb2,Ng4,Rad1,Nxe3,Rxe3,Rd7,Nd5,Qd8,Nxd4,exd4,Red3,c6,Nf4,Qb6,Nxe6,fxe6,f4,e5,Bh3,Re7,f5,gxf5,Bxf5,Bh6,Rf1,Be3+,Kg2,Kg7,Qe2,Kh8,Qh5,c5,Bxh7,Rxf1,Bg6+,Kg8,Kxf1,Qa6,Qg4,Qxa3,Bh5+,Rg7,Qe6+,Kh7,Qf5+,Kh8,Qf8+,Kh7,Qf5+,Kh6,Qf6+,Kxh5,Qxg7,Qc1+,Kg2', 'Qg1+,Kh3,Qf1#', 'https://lichess.org/training/f6zsC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f6Zwr', 'Rapid', 'bestlife', 1708, 'Alvikz', 1709, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,h6,a3,Bc5,Be3,Ba7,O-O,O-O,Qd2,Bxe3,fxe3,d6,Nc3,Ne7,Ne2,Bb7,Ng3,c6,Nh4,d5,exd5,Nexd5,Nhf5,Bc8,c4,Ne7,Nxe7+,Qxe7,Nf5,Bxf5,Rxf5,Rfd8,Raf1,Qe6,Qc3,Ng4,cxb5,Qd6,d4,Kh8,h3', 'exd4,hxg4,dxc3', 'https://lichess.org/training/f6Zwr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f71eg', 'Rapid', 'thebrazilianbeast', 1773, 'GeorgeHC', 1789, 'e4,e6,b3,c6,Bb2,d5,Nc3,d4,Nce2,e5,f4,c5,fxe5,Nc6,Nf3,Bg4,Ng3,Nxe5,Be2,Bxf3,Bxf3,Nf6,Qe2,d3,Qe3,Nxf3+,Qxf3,Be7,Qxd3,Qxd3,cxd3,O-O-O,Ke2,Rhg8,Rac1,b6,Nf5,Rd7,d4,Nxe4,d3,g6', 'Nxe7+,Rxe7,dxe4', 'https://lichess.org/training/f71eg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F78ZK', 'Blitz', 'Birsli', 1617, 'MultiLayerPerceptron', 1709, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,Re1,Bd7,c3,Bg4,h3,Bh5,d3,b5,Bb3,b4,Nbd2,a5,Nf1,bxc3,bxc3,Be7,Ng3,Bg6,Ba3,O-O,d4,exd4,cxd4,d5,Rc1,Nxd4,Bxe7,Nxf3+,Qxf3,Qxe7,exd5,Qd6,Rc6,Qd7,Qc3,Nxd5,Bxd5,Qxd5,Rxc7,Qxa2,h4,h6,h5,Bh7,Qf3,a4,Ree7,Rab8,Qf4,Rb1+,Kh2,a3,Rxf7,Rxf7', 'Rc8+,Rf8,Qxf8#', 'https://lichess.org/training/F78ZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f7AFW', 'Classical', 'tremorX', 2304, 'MenaNMena3', 2190, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nh3,Nf6,Nf4,e6,h4,Nbd7,h5,Be4,f3,Bf5,Nxf5,exf5,Bd3,Be7,Bxf5', 'Qa5+,Kf2,Qxf5', 'https://lichess.org/training/f7AFW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F7EXA', 'Rapid', 'tahamtan2000', 2000, 'babljak01', 1972, 'e3,d5,Nf3,c5,d4,e6,Nbd2,Nc6,Bd3,Nf6,O-O,cxd4,exd4,Bd6,Re1,h6,a3,O-O,c3,a6,Nf1,b5,Ng3,Qc7,Be3,Ng4,Rc1,Nxe3,fxe3,Bxg3,hxg3,Qxg3,Bb1,h5,Qd3,g6,e4,h4,e5,h3,Re2,Na5,Qe3,Nc4,Qh6,h2+,Kh1,f5,Ng5,Ra7,b3,Ne3,Nh3,Ng4,Qxg6+,Rg7,Qh5,Rff7,c4,dxc4,bxc4,Bb7,d5,exd5,Bxf5,dxc4,Be6,Nf2+,Rxf2', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/F7EXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F7GNB', 'Rapid', 'kapablankafisher', 1697, 'Snake-Mark', 1968, 'e4,e5,Nf3,f5,exf5,e4,Nd4,Nf6,d3,c5,Nb3,exd3,Bxd3,d5,Bb5+,Nc6,O-O,Bxf5,Re1+,Be7,Nxc5,O-O,Nxb7,Qb6,Bxc6,Qxc6,Na5,Qc7,Nb3,Bd6,g3,Bg4,Qd4,Ne4,Qxd5+,Kh8,Qxe4,Bf3,Qd4,Qb7,Na5,Qd7,Nc3,Qf5,Qh4,Be7,g4,Bxg4,Rxe7,Qg6,Bg5,Bf3,Rae1,Qf5,Nc6,Bxc6,R1e5,Qf3,Qg3', 'Qh1#', 'https://lichess.org/training/F7GNB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f7k0K', 'Rapid', 'Bogdan-Meduric', 1859, 'MSSAAD', 1857, 'f4,f5,Nf3,Nf6,e3,e6,Be2,Be7,O-O,O-O,Ne5,d6,Nf3,Nc6,c3,e5,fxe5,dxe5,Ne1,Qd6,d3,Ng4,Bxg4,fxg4,Rxf8+,Bxf8,d4,Be7,d5,Bd7,e4,Rf8,Qe2,Nd8,Be3,b6,c4,Qg6,Bf2,h5,Nd2,h4,g3,h3,Nd3,Nf7,Rf1,Nd6,b3,Bf6,a4,Re8,c5,Nc8,c6,Bxc6,dxc6,Ne7,Rc1,Qh6,Be3,Bg5,Nf1,Qf6,Bxg5,Qxg5,Qe3,Qf6,Nd2,Nxc6,Nf2,Qg6,Qe2,Nd4,Qxg4', 'Qxg4,Nxg4,Ne2+,Kf2,Nxc1', 'https://lichess.org/training/f7k0K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f7ksx', 'Rapid', 'zdravko_angelovski', 1908, 'CountryLad', 1813, 'e4,c5,f4,Nc6,c3,e6,Nf3,Nf6,d3,d5,e5,Nd7,Be2,f6,d4,cxd4,cxd4,Bb4+,Nc3,O-O,O-O,fxe5,fxe5,Qb6,Kh1,Qd8,a3,Ba5,Bg5,Qe8,Nb5,Bb6,Nd6,Qg6,Bd3,Qh5,Be2,Rxf3,Rxf3,Qxg5,Rg3,Qf4,Bd3,Bxd4,Qh5,Nf8,Rf1,Qxf1+,Bxf1,g6,Qf3,Nxe5,Qf6,Bd7,Rg5,Nc6,Qf7+,Kh8,h4,Bxb2,h5,Bg7,hxg6,hxg6,Bd3,Ne5,Rxe5,Bxe5,Qe7,Bxd6,Qxd6,Re8,Qh2+,Kg8,Qh6,e5,Bxg6,Nxg6,Qxg6+,Kf8,Qd6+,Re7,Qf6+,Ke8,Qh8+,Kf7,Qh7+,Ke8', 'Qg8#', 'https://lichess.org/training/f7ksx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F7mxd', 'Blitz', 'manucoli333', 1664, 'LoLo63', 1750, 'd4,d5,Bg5,g6,e3,Bg7,c4,Nf6,Nc3,dxc4,Bxc4,O-O,Qd2,c5,Nge2,cxd4,Nxd4,Bf5,Rd1,Ne4,Nxe4,Bxe4,O-O,Qc7,Bb3,Nc6,f3,Nxd4,exd4,Bc6,Bh6,Rad8,Bxg7,Kxg7,Qc3,Qb6,Kh1,Bd5,Bxd5,Rxd5,f4,Rfd8,g4,Rxd4,f5,Kg8,fxg6,Rxd1', 'gxf7+,Kf8,Qh8#', 'https://lichess.org/training/F7mxd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f7nZd', 'Blitz', 'Fouracle', 2407, 'Dovah95', 2665, 'd4,Nf6,c4,g6,Nf3,Bg7,g3,d6,Bg2,Nbd7,O-O,O-O,Nc3,e5,d5,a6,b3,Re8,Bb2,e4,Nd4,Qe7,e3,Ne5,Qc2,Bf5,Rad1,h5,Nxf5,gxf5,Ne2,Bh6,Nd4,Qd7,Bh3,Nfg4,c5,dxc5,Qxc5,Bg7,Bxg4,hxg4,Ba1,Nd3,Qc4,Rad8,Kg2,Qxd5,Qxc7,f4,gxf4,Bxd4,Bxd4,Rc8,Qb6,Re6,Qa7,Nxf4+,Kh1,Rh6,Rc1,Rxh2+,Kxh2', 'Qh5+,Kg1,Ne2+,Kg2,Qh3#', 'https://lichess.org/training/f7nZd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F7pUr', 'Rapid', 'ch233', 1808, 'Jan75', 1798, 'e4,Nc6,d4,e5,d5,Nce7,Be2,Ng6,Bf3,Bc5,Nc3,d6,Nge2,h6,Ng3,Nf6,O-O,a6,Na4,Ba7,c4,Bd7,Nc3,h5,Nf5,Bxf5,exf5,Nh4,Qd3,Qd7,Bg5,Nxf5,Bxf6,gxf6,Ne4,O-O-O', 'Nxf6,Qe7,Qxf5+', 'https://lichess.org/training/F7pUr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f7s0u', 'Rapid', 'Ehabsami1976', 2092, 'charalamposarkoudeas', 2069, 'e4,c5,Nf3,Nc6,c3,d6,Bc4,e6,O-O,Bd7,d4,cxd4,cxd4,Nf6,Nc3,Be7,Re1,O-O,Bd3,h6,Be3,Ng4,Bd2,a6,h3,Nf6,Be3,Rc8,a3,Nh7,Qd2,f5,exf5,exf5,Nd5,Bg5,Bxg5,hxg5,Bc4,Kh8,Ba2,g4,hxg4,fxg4,Nh2,Qg5,Re3,Rce8,Rae1,Rxe3,Rxe3,g3,Nf3,gxf2+,Qxf2,Qg6,Qh4,Bg4,Nc3', 'Bxf3,Rxf3,Rxf3', 'https://lichess.org/training/f7s0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f7S11', 'Rapid', 'JAVIGIRL', 1869, 'Morozmoroz', 1941, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bf4,Bd6,Bxd6,Qxd6,Nf3,O-O,e3,c6,Bd3,Bg4,Qc2,h6,h3,Bxf3,gxf3,Re8,Rg1,Nh5,O-O-O,Nd7,f4,Kf8,Qe2,Ndf6,Qf3,Ke7,e4,dxe4,Nxe4,Nxe4,Qxe4+,Kd8,Qf3,g6,f5,Nf4,fxg6,Nxd3+,Rxd3,fxg6,Qf7,g5,Kb1,Rc8,Rgd1,Rc7,Qf3,Rf8,Qe3,Rcf7,Qd2,Rxf2,Qa5+,Qc7,Qc5,b6,Qa3,Rf1,Kc2,R8f2+,R3d2,Qh7+,Kc1,Kc8,Qa6+,Kb8', 'Rxf1,Rxf1+,Qxf1', 'https://lichess.org/training/f7S11');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F7s87', 'Rapid', 'tajd', 1792, 'al93', 1782, 'e4,e6,d3,c5,Nc3,Nc6,f4,a6,Nf3,b5,Be2,b4,Nb1,Nd4,Nxd4,cxd4,Nd2,Bb7,Nf3,Qb6,O-O,d5,exd5,Bxd5,Ne5,Bd6,Bf3,Bxf3,Qxf3,Rc8,Nc4,Qc7,Qe4,Nf6,Qxd4', 'Bc5,Be3,Bxd4', 'https://lichess.org/training/F7s87');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f7tl7', 'Classical', 'alkhtyb', 1824, 'hamod-7tal', 1698, 'Nf3,c5,Nc3,Nc6,e3,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Be2,Nf6,O-O,Bb7,f4,e6,e4,O-O,Qd6,Qb6+,Kh1,Rfd8,Na4,Qa5,Nc5,Bc8,Bd2,Qb6,Bc3,Ne8,Qe7,f6,Rad1', 'Bf8,Qxd8,Qxd8', 'https://lichess.org/training/f7tl7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F7v85', 'Classical', 'Lettenhove', 1654, 'davidetz', 1661, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,a6,Ba4,b5,Bb3,Be7,O-O,O-O,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe3,c4,e5,Ng4,Qe4,d6,Qxa8,cxb3,axb3,Nxe5,Nd5,Qd7,Nb6,Qg4,f3', 'Qd4+,Kh1,Qxb6', 'https://lichess.org/training/F7v85');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f7vC2', 'Rapid', 'kgy34', 1663, 'cipher2', 1733, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,f3,c5,c4,d4,d3,Nc6,Bf4,Bd6,Qe2+,Be6,Bxd6,Qxd6,Nd2,O-O,O-O-O,a6,a4,b5,Qf2,Nb4,Qf1,Bf5,Ne4,Qf4+,Rd2,Nxe4,dxe4,Bxe4,Nh3,Nd3+', 'Qxd3,Bxd3,Nxf4', 'https://lichess.org/training/f7vC2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f7yPj', 'Rapid', 'mm1988', 1646, 'matt90', 1822, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bg4,c4,Nf6,h3,Bh5,Bg5,e6,a3,Be7,cxd5,Nxd5,Bxe7,Qxe7,Be2,O-O,O-O,Nc6,Ne5,Bxe2,Nxc6,Bxd1,Nxe7+,Nxe7,Rxd1,Nd5,Nc3,Nxc3,bxc3,Rac8,Rd3,Rfd8,Rb1,b6,f3,f6,f4,e5,fxe5,fxe5,Re1,exd4,cxd4,Rc4,Re4,a5,Re6,Rdxd4,Rxd4,Rxd4,Rxb6,Ra4,Rb3,Kf7,Kf2,Ke6,Ke3,Kd5,Kd3,Rd4+,Kc3,a4,Rb4,Rd1,Rxa4,Rg1,Rd4+,Kc5,Rg4,g6,Rg5+,Kb6,a4,Ka6,h4,Ra1,Rg4,Ka5,Kb3,Rb1+,Kc2,Ra1,g3,Ra3,Kb2,Rxa4', 'Rxa4+,Kxa4,Kc3,Kb5,Kd4', 'https://lichess.org/training/f7yPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F7yyA', 'Blitz', 'bebzzz', 1944, 'Sekum_SBW', 2022, 'c4,e6,d4,d5,cxd5,exd5,Nc3,Nf6,Nf3,Bb4,a3,Bxc3+,bxc3,O-O,Bg5,Bg4,Ne5,Bh5,Qb3,Nc6,Bxf6,Qxf6,Nd7,Qe6,Nxf8,Rxf8,e3,Re8,Be2,Bxe2,Kxe2,Qg4+,Kf1,Na5,Qxd5,b6,Qf3,Qg6,Rd1,Nb3,g3,Qc2,Kg2,Qxc3,Rhe1,Nd2,Qe2,Qc6+,f3,Nc4,Rc1,b5,Rc3,h5,h4,Qg6,Rec1,Nd6,Rxc7,Nf5,Qf2,Nxe3+,Kh3', 'Qf5+,Kh2,Ng4+,Kg1,Nxf2', 'https://lichess.org/training/F7yyA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F82gp', 'Blitz', 'Impsander37', 1770, 'jcsoldier', 1723, 'd4,c5,c3,d5,Bf4,e6,e3,c4,b3,cxb3,axb3,Ne7,c4,Ng6,Bg3,Qb6,c5,Qd8,b4,a5,Nf3,Nc6,b5,Nb4,Bd3,b6,c6,Bd6,Nc3,Bxg3,hxg3,Qc7,Ke2,e5,dxe5,Nxe5,Rxh7,Rxh7,Bxh7,Be6,Bd3,Nxf3,gxf3,Qe5,Rc1,O-O-O,Qh1,d4,Ne4,f5,Ng5,dxe3,Nxe6,exf2+,Kxf2,Rxd3', 'Qh8+,Rd8,Qxd8#', 'https://lichess.org/training/F82gp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f8Ctq', 'Blitz', 'Matolearner', 1691, 'NorthernImpact', 1660, 'e4,c5,Nf3,d6,Nc3,Nc6,Bb5,Nf6,d4,cxd4,Nxd4,Qb6,a4,a6,Nxc6,bxc6,Bd3,e6,Bg5,Be7,O-O,h6,Be3,c5,b3,O-O,Qf3,Bb7,Qg3,Nh5,Qg4,Nf6,Qg3,Nh5,Qh3,Nf6,Bxh6,gxh6,Qxh6,Ng4,Qh5,Nf6,Qg5+,Kh8,Qh6+,Kg8,f4,c4+,Kh1,cxd3,Rf3,Nxe4,Nxe4,Bxe4,Rg3+,Bg6,h4,Rfc8,h5,Bf8,Qg5,Rc5,Qg4,dxc2,Rc1,Qc7,hxg6,fxg6,Qxg6+,Kh8,Qh5+,Qh7,Qxh7+,Kxh7,Rh3+,Kg7,Rg3+,Kh7,Kg1,Be7,Kf2,Rg8', 'Rh1+,Bh4,Rxh4+,Rh5,Rxh5#', 'https://lichess.org/training/f8Ctq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f8GX0', 'Rapid', 'Dillala', 1914, 'Huskygaze3', 2001, 'e4,d6,d4,Nf6,Bd3,e5,f4,exd4,Nf3,Be7,O-O,O-O,Nxd4,Nc6,Nxc6,bxc6,Nd2,Bg4,Nf3,Re8,Be3,Bf8,Qd2,Bxf3,Rxf3,Nxe4,Qb4,d5,Qa4,Qd7,c3,Nc5,Qc2,Nxd3,Qxd3,g6,f5,Re4,fxg6,hxg6,Raf1,Rae8,Bd4,f5,Rh3,c5', 'Rh8+,Kf7,Rh7+,Ke6,Rxd7', 'https://lichess.org/training/f8GX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F8hOq', 'Rapid', 'seth1972', 1750, 'rkarayavuz95', 1755, 'c4,c5,Nc3,e6,g3,Nf6,Bg2,d5,cxd5,exd5,d3,Nc6,Bg5,Be6,Bxf6,gxf6,e4,d4,Nd5,Bxd5,exd5,Ne7,Qe2,Bg7,O-O-O,O-O,Re1,Nxd5,Qf3,Qa5,Ne2,Rad8,Kb1,b5,Nc1,c4,Qf5,Rfe8,Rxe8+,Rxe8,Be4,Rxe4,Qxe4,Nb6,dxc4,Nxc4,Nb3,Qb4,Qa8+,Bf8,Qxa7,d3,Qd7,Bc5,Qxd3,Ne5,Qc3', 'Qe4+,Qc2,Qxh1+', 'https://lichess.org/training/F8hOq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F8JwL', 'Rapid', 'werner-erftstadt', 1851, 'Vercoquin', 1749, 'f4,Nf6,g3,d5,Bg2,e6,Nh3,h6,Nf2,Bc5,d4,Bb6,e3,O-O,c3,c5,O-O,cxd4,exd4,Nc6,b4,a6,Be3,Rb8,a4,Bd7,Nd2,Bc7,Nb3,b6,Qe2,a5,b5,Ne7,Rac1,Nf5,Bd2,Nd6,Nd3,Nc4,Be1,Re8,Ne5,Bxe5,fxe5,Nh7,Nd2,Nxd2,Bxd2,f5,h4,Rf8,Bf3,Be8,Kg2,g5,hxg5,hxg5,Bh5,Kg7,Rh1,Rh8,g4,f4,Qd3,Bxh5,Rxh5,Qg8,Rch1,Nf8,Rxg5+,Kf7,Rxg8,Rxg8,Kf3,Ng6,Rh7+,Rg7,Rxg7+,Kxg7,Bxf4,Rh8,Kg3', 'Rh3+,Kxh3,Nxf4+,Kg3,Nxd3', 'https://lichess.org/training/F8JwL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f8LgV', 'Blitz', 'kingstar70', 2379, 'FM LagraveSamuell', 2409, 'e4,Nf6,e5,Nd5,d4,d6,exd6,cxd6,Nf3,g6,c3,Bg7,Bc4,Nb6,Bb3,O-O,h3,e5,O-O,e4,Ne1,d5,Nd2,Nc6,a4,f5,a5,Nc4,Nxc4,dxc4,Bxc4+,Kh8,b4,f4,a6,f3,axb7,Bxb7,g3,Ne5,Ba6,Bxa6,Rxa6,Qd7,Kh2,Rac8,Bd2,Nc4,Nc2,Nb2,Qa1,Nd3,Rxa7,Rc7,Rxc7,Qxc7,Ne3,Bh6,Qa5,Qd7,Qd5', 'Qxd5,Nxd5,Bxd2', 'https://lichess.org/training/f8LgV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F8m8F', 'Blitz', 'mohammadmmm', 1711, 'girandola', 1777, 'e4,c5,Nf3,Nc6,Nc3,d6,d4,cxd4,Nxd4,Nf6,Be2,a6,Be3,e6,O-O,Qc7,f4,Be7,a3,O-O,f5,Nxd4,Bxd4,b5,g4,Bb7,Bf3,exf5,exf5,Bxf3,Qxf3,Qc4,Rad1,Nd7,g5,Ne5,Bxe5,dxe5,f6,Bc5+,Kh1,g6,Qh3,Rfe8,Rfe1,e4,Nd5,Bf8,Nb6,Qxc2,Nxa8,Rxa8,Qc3,Qf2,Rxe4,Qf5,Qe3,Bc5,Qe2,Qxg5,Re8+,Rxe8', 'Qxe8+,Bf8,Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/F8m8F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f8MXv', 'Blitz', 'Vainvain1234', 1647, 'Alighasemi2', 1743, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,Nc3,Nf6,h3,h5,Bd5,Bg4,Bxc6+,bxc6,hxg4,hxg4,Nh2,g3,Ng4,Rh4,Ne3,Nxe4,Nxe4', 'Rh1+,Kxh1,Qh4+,Kg1,Qh2#', 'https://lichess.org/training/f8MXv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F8Spr', 'Rapid', 'Beirut2020', 1912, 'Gevorg1990', 1983, 'd4,d5,Bf4,e6,e3,Bd6,Qg4,Qf6,Bxd6,cxd6,Qg3,e5,Nc3,Be6,Nf3,Nc6,Bb5,e4,Qxd6,Ne7,Ne5,Rc8,Nxd5,Bxd5,Qd7+,Kf8,Qxc8+,Nxc8,Nd7+,Ke7,Nxf6,Kxf6,Bxc6,Bxc6,O-O,Nd6,b3,b5,a4,b4,Rad1,Bd5,f4,Rc8,Rd2,a5,g4,Rc3,Kf2,h5,h3,h4,Re1,Ne8,Ke2,Nc7,Kd1,Bb7,Rg2,Nd5,Kd2,Ba6,g5+,Kg6,Rg4,Kh5,f5,Bc8,Rxe4,Bxf5,Re5', 'Rxc2+,Kd1,Nc3#', 'https://lichess.org/training/F8Spr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f8vE5', 'Blitz', 'GarayevSadig', 1903, 'Betomanix', 1936, 'e4,c5,Nf3,d6,d4,Nf6,Nc3,cxd4,Nxd4,a6,h3,e5,Nde2,Be7,g4,Be6,g5,Nfd7,Nd5,Nc6,h4,Rc8,Nec3,Nd4,Be3,Bxd5,Bxd4,Be6,Be3,Rxc3,bxc3,O-O,Bh3,Qa5,Qd2,Nc5,Bxc5,Qxc5,Qe3,Qc4,Bf1,Qa4,Bd3,Qa3,O-O,Qxc3,Kh2,d5,Rg1,d4,Qf3,Bd6,h5,b5,Qg3,Bc4,Rg2,Qxa1,g6,Bxd3', 'gxh7+,Kxh7,Qxg7#', 'https://lichess.org/training/f8vE5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f8VyS', 'Rapid', 'rcCp', 1802, 'KenTapel', 1922, 'Nf3,e6,g3,d5,Bg2,c5,O-O,Nc6,e3,g6,d4,Bg7,c3,cxd4,exd4,Nge7,Bg5,O-O,Na3,Qb6,Rb1,a6,Re1,Re8,Ne5,Nxe5,dxe5,Nc6,Be3,Qc7,f4,Na5,h4,Nc4,Nxc4,Qxc4,h5,Qxa2,hxg6,fxg6,f5,exf5', 'Bxd5+,Be6,Bxa2', 'https://lichess.org/training/f8VyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F8zEA', 'Classical', 'Gulnare', 1948, 'pilipa', 1707, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bd6,Be3,Bg4,h3,Bh5,Nc3,Ne7,Qe2,Qd7,O-O-O,Bb4,a3,Bxc3,bxc3,O-O,g4,Bg6,Nxe5,Qd6,Nxg6,Nxg6,d4,Qxa3+,Kd2,Rad8,Rb1,b5,h4,c5', 'Ra1,Qb2,Rhb1,Qxb1,Rxb1', 'https://lichess.org/training/F8zEA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f8ZM7', 'Rapid', 'Lip2', 1641, 'bladerunner95', 1680, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Nf6,Bb5,O-O,O-O,d6,e5,dxe5,Qxe5,c6,Ba4,Re8,Qc3,Be6,Re1,Bd5,Rxe8+,Qxe8,f3,Rd8,Nd2,h6,Qc5,b6,Qf2,Qe5,c3,b5,Bb3,a5,a4,Bxb3,Nxb3,bxa4,Nd4,c5', 'Nc6,Qd6,Nxd8', 'https://lichess.org/training/f8ZM7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F98wg', 'Rapid', 'sonoja', 2002, 'eric1025', 1899, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,dxc5,Bxc5,Ngf3,Nf6,Be2,O-O,O-O,Nc6,Re1,Qb6,Rf1,Be6,Nb3,Bd6,Be3,Qc7,Nbd4,Bg4,Nb5,Qd7,Nxd6,Qxd6,Nd4,Bxe2,Qxe2,Rfe8,Rfd1,Re4,Qb5,Nxd4,Rxd4,Rxd4,Bxd4,Rb8,Re1,a6,Qb3,Ne4,f3,Nd2,Qc3,Qh6,Bf6,Qxf6,Qxd2,Rd8,c3,h6,Rd1,Qc6,Qd4,b5,Rd2,Qc4,b3,Qc6,c4,bxc4,bxc4,Re8,Qxd5,Qb6+,c5', 'Qb1+,Rd1,Re1+', 'https://lichess.org/training/F98wg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f9b16', 'Rapid', 'Chineez_Girl', 1977, 's57', 1998, 'd4,d5,c4,e6,Nf3,c6,Bf4,Bd6,Bg3,Qc7,e3,a6,Nc3,Nf6,Rc1,Bxg3,hxg3,Qd6,c5,Qc7,Bd3,Nbd7,b4,e5,Nxe5,Nxe5,dxe5,Qxe5,O-O,Bg4,Ne2,O-O,Qd2,Bxe2,Qxe2,g6,a4,Qg5,Ra1,Rfe8,Qf3,Re6,b5,axb5,axb5,Rae8,Ra7,R8e7,Rb1,Ng4,bxc6,bxc6,Rb8+,Kg7,Raa8,Qh5,Rg8+,Kh6,Rh8,Qh2+,Kf1,Qh5', 'Qf4+,Qg5,Rxh7+,Kxh7,Qxg5', 'https://lichess.org/training/f9b16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f9bCP', 'Rapid', 'Artwell', 1886, 'LaserGuy', 1823, 'd4,d5,c4,e6,g3,Be7,Bg2,Nf6,Nf3,Bd7,Qb3,dxc4,Qxb7', 'Bc6,Ne5,Bxb7', 'https://lichess.org/training/f9bCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9BTa', 'Rapid', 'DuncanMacLaod', 1899, 'iris45', 2004, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,d3,O-O,O-O,a6,a4,d6,h3,d5,exd5,Nxd5,Re1,f6,Ba2,Kh8,b4,b5,a5,Be6,d4,Bd6,Bf4,Nxf4,d5,Nxd5,Bxd5,Bxd5,Qxd5,Ne7,Qb3,Rb8,Nbd2,Ng6,Ne4,Be7,Rad1,Qc8,Rd2,f5,Neg5,Bxg5,Nxg5,Qe8,Red1,h6,Ne6,Rf7', 'Rd8,Rxd8,Rxd8,Qxd8,Nxd8', 'https://lichess.org/training/F9BTa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9cIu', 'Rapid', 'murtuswami', 1681, 'aranhaBR', 1747, 'e4,c5,Nf3,d6,Bc4,e6,c3,Nc6,O-O,h6,d4,cxd4,cxd4,d5,exd5,exd5,Re1+,Be7,Bb3,Nf6,Nc3,O-O,Bc2,Nb4,Bb1,Bg4,a3,Nc6,Qd3,Bxf3,Qxf3,Nxd4,Qg3,Bd6,Qd3,Nb3,Nxd5,Nxa1', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/F9cIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9eWC', 'Rapid', 'Molex2421', 1895, 'tirid', 1842, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Bd6,Bd3,c6,O-O,O-O,Re1,Bg4,h3,Be6,Bg5,h6,Bxf6,Qxf6,a3,Nd7,Kf1,Rfe8,b4,Re7,b5,Rae8,bxc6,bxc6,a4,Nb6,a5,Nc4,Bxc4,dxc4,Rb1,Bd5,Nxd5,Rxe1+,Nxe1,cxd5,Nf3,Bc7,a6,Qxa6,c3,Ba5,Ra1,Qb6', 'Qa4,Bxc3,Qxe8+', 'https://lichess.org/training/F9eWC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9hVx', 'Classical', 'Ironmanpeter', 1783, 'SeviCarlsen', 1769, 'e4,c6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,e6,Nf3,c5,Bb5,Nc6,O-O,a6,Bxc6,bxc6,Ne2,Qb6,Kh1,a5,c3,Ba6,Rf2,Be7,Ng3,O-O,f5,Qd8,Be3,Kh8,Qc2,c4,Nh5,c5,h3,Bb5,Nh2,a4,Ng4,cxd4,cxd4,Bg5,Raf1,Bxe3,Nxe3,Qg5,Qe2,a3,fxe6,fxe6,Rxf8+,Nxf8,bxa3,Kg8,Rf3,Ng6,Rg3,Qe7,Qb2,Be8,Nc2,Nxe5', 'Rxg7+,Qxg7,Nxg7', 'https://lichess.org/training/F9hVx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f9Jhv', 'Rapid', 'Sergey_Pavlovich', 1947, 'thesafa', 1969, 'd4,d5,c4,c6,Nf3,Nf6,e3,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,Be7,O-O,O-O,Re1,Nbd7,b3,h6,Bb2,Nh7,e4,dxe4,Nxe4,Ndf6,Nfd2,Nxe4,Nxe4,Nf6,Nxf6+,Bxf6,Qe4,Qc7,Rad1,Rad8,Re2,Rfe8,g3,Qb6,Rdd2,Qa6,a3,Qb6,b4,Qa6,Qc2,Qb6,c5,Qc7,d5,exd5,Bxf6,gxf6,Qf5,Kg7,Qg4+,Kh7,Rxe8,Rxe8,Qf5+,Kg7,Rd4,Qe5,Rg4+,Kh8,Qf3,Rg8,Rf4,Rg6,Rf5,Qe6,Qf4,Kg7,h4,b6,cxb6,axb6,a4,c5,bxc5,bxc5,a5,c4,a6,Qxa6,Rxd5,Qa1+,Kh2,c3,Rc5,Qb2,Rc7,c2,Qc4,c1=Q', 'Qxf7+,Kh8,Qh7#', 'https://lichess.org/training/f9Jhv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f9jT6', 'Rapid', 'patouch888', 1808, 'Gloobal', 1815, 'e4,c5,Nf3,g6,d3,Nc6,g3,Nf6,Bg2,Bg7,O-O,O-O,Bg5,h6,Bxf6,Bxf6,c3,e6,Re1,d5,e5,Bg7,d4,cxd4,cxd4,Bd7,Nbd2,Qb6,Nb3,a5,a4,Nb4,Rc1,Rac8,Nc5,Rfd8', 'Nxd7,Rxc1,Nxb6,Rxd1,Rxd1', 'https://lichess.org/training/f9jT6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9KAx', 'Rapid', 'Hannibal__Lecter', 2111, 'spotniks', 2125, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,a6,c3,O-O,Nbd2,d6,b4,Ba7,a4,Ne7,h3,b5,axb5,axb5,Ba2,Be6,Qc2,Ng6,Ng5,Bxa2,Rxa2,h6,Ngf3,Nf4,Nb3,N6h5,d4,Qf6,Kh2,g5,Ra6,exd4,cxd4,Qe7,e5,dxe5,Rxh6,f5,Nxe5,Bxd4,Ng6,Nxg6,Rxg6+,Kh7,Rc6,Be5+,f4,Nxf4,Bxf4,Bxf4+,Rxf4,gxf4', 'Rxc7,Ra7,Rxe7+', 'https://lichess.org/training/F9KAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9kET', 'Rapid', 'hasanalowais', 2053, 'aunielstark', 1947, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,d3,O-O,Be3,Bb6,Bxb6,axb6,a3,d6,h3,Be6,Ba2,Ne7,O-O,c6,Nh2,Qd7,f4,Bxh3,gxh3,Qxh3,Qf3,Qh6,f5,Kh8,Rf2,g6,fxg6,fxg6,Qg3,Nh5,Rxf8+,Rxf8,Qh3', 'Qg5+,Kh1,Ng3+,Qxg3,Qxg3', 'https://lichess.org/training/F9kET');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9Lc6', 'Blitz', 'KurtB', 1546, 'yog-sothot', 1591, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,h6,Bh4,g5,Bg3,f4,Bxf4,gxf4,Nf3,b6,Qd2,Bb7,Qxf4,Bd6,Qe3,Nc6,d5,Na5,dxe6,Nxc4,exd7+,Kxd7,Qd3,Nxb2,Ne5+,Ke8', 'Qg6+,Kf8,Qf7#', 'https://lichess.org/training/F9Lc6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9lkt', 'Rapid', 'xjunior', 1664, 'Vmusael', 1611, 'e4,e6,Nf3,d5,e5,Bb4,Be2,Nc6,O-O,Nge7,c3,Ba5,d4,Bb6,Qc2,h6,h3,O-O,Nh2,Nf5,Ng4,Nce7,Nxh6+,Nxh6,Bxh6,gxh6,Bd3,Nf5,Bxf5,exf5,f4,Be6,Rf3,Rc8,Rg3+,Kh7,Nd2,c5,Qd3,Qh4,Rg4,Qh5,Nf3,Kh8,Rh4,Qg6,Ng5,Bd7,Rf1,a6,Qe3,Rfe8,Rf3,f6', 'Rxh6+,Qxh6,Nf7+,Kg7,Nxh6', 'https://lichess.org/training/F9lkt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9ned', 'Rapid', 'Taktik-for-the-win', 2043, 'Sfide_Mentali', 2130, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bb6,c3,d6,Bc4,h6,O-O,Nge7,Nd2,Ne5,Bb3,Ng4,h3,Nxe3,Bxf7+,Kxf7,Qh5+,Kg8,fxe3,Kh7,N2f3,Ng6,Nf5,Rf8,h4,Be6', 'Ng5+,Qxg5,hxg5', 'https://lichess.org/training/F9ned');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9Qnf', 'Rapid', 'drdrakstein', 1985, 'andirin', 2011, 'd4,d5,c4,c6,Nf3,Nd7,Nc3,Ngf6,e3,g6,Bd3,Bg7,O-O,O-O,h3,a6,c5,Qc7,Bd2,e5,dxe5,Nxe5,Nxe5,Qxe5,Qc2,Re8,Ne2,Qe7,Bc3,Qxc5,Rac1,Qd6,Rfd1,Bd7,Ng3,Rad8,Qb3,Bc8,e4,d4,Bc4,Qe7,Rxd4,c5,Rxd8,Rxd8,Re1,b5,Bd5,c4,Qd1,Be6,Qf3,b4,Bxf6,Qxf6,Qe2,Bxd5,exd5,Rxd5,Qxc4,Rd8,Qxb4,Qxb2,Qa5,Qd2', 'Re8+,Rxe8,Qxd2', 'https://lichess.org/training/F9Qnf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f9qU5', 'Classical', 'erik0505', 1779, 'strongblackknight', 1783, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c5,cxd5,Nxd5,Nxd5,Qxd5,e3,Nc6,Bb5,Bd7,O-O,cxd4,Bxc6,Bxc6,exd4,Bd6,a3,Qh5,h3,O-O-O,Qc2,Kb8,Qb3,Bd5,Qd3,Bxf3,Qxf3,Qxf3,gxf3,e5,dxe5,Bxe5,Rb1,Rd7,b4,Rhd8,Be3,Rd3,a4,Bd4,Bf4+,Ka8,Kg2,Bc3,Rb3,Bf6,Rxd3,Rxd3,Rc1,b6,b5,Rd4', 'Rc8+,Kb7,Rb8#', 'https://lichess.org/training/f9qU5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9rIP', 'Blitz', 'plumber900', 1917, 'pacochesscebr', 1915, 'e4,c5,Nf3,Nc6,d4,b6,Nc3,e6,d5,Na5,dxe6,fxe6,Bg5,Be7,Bxe7,Nxe7,Qd2,O-O,Qd6,Nb7,Qd3,d5,exd5,exd5,Be2,d4,Ne4,Bf5,O-O-O,Qd5,Nfd2,Qxa2,f3,Na5,g4,c4,Qa3,Qxa3,bxa3,Bxe4,fxe4,b5,a4,Rf2,Bf1,a6,axb5,axb5,h4,Nac6,Bh3,c3,Nb3,Ra2,Rhf1,Rfxc2+,Kb1,Rcb2+,Kc1,Rxb3,g5,Rbb2', 'Be6+,Kh8,Rf8+,Ng8,Rxg8#', 'https://lichess.org/training/F9rIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9SCL', 'Rapid', 'ingle490', 1644, 'sidhatkar', 1912, 'e4,e5,Nf3,Nc6,c4,Bc5,Nc3,Nf6,h3,d6,a3,a6,b4,Bd4,Bb2,Bxc3,Bxc3,Nxe4,Bb2,O-O,d3,Ng5,Nxg5,Qxg5,Qf3,Bf5,g4,e4', 'Qxf5,Qxf5,gxf5', 'https://lichess.org/training/F9SCL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f9Xir', 'Rapid', 'dorao_31', 1586, 'khojakjon', 1616, 'e4,d6,d4,Nf6,Nc3,g6,Bg5,Bg7,Qd2,a6,O-O-O,b5,Be2,Bb7,Bf3,Nbd7,Nge2,O-O,Bh6,e5,d5,c5,g4,Bxh6,Qxh6,Kh8,h4,Ng8,Qe3,Qe7,a3,c4,b3,cxb3,cxb3,Rac8,Kb2,Nc5,b4,Na4+,Nxa4,bxa4,Nc3,Rc4,Nxa4,Rfc8,Rc1,Rxc1,Rxc1,Rxc1,Qxc1,Qxh4,Qe3,Bc8,Nb6,Bxg4,Bxg4,Qxg4,f3,Qg2+,Kb3,Nf6,Nc8,h5,Nxd6,h4,Nxf7+,Kg7,Nxe5,h3,Ng4,Nxg4,fxg4,h2,Qa7+,Kh6,Qe3+,Kh7,Qa7+,Kh6,Qe3+,Kg7,Qa7+,Kf6,Qd4+,Kg5,Qe5+,Kxg4,Qe6+,Kf3,Qf6+,Kxe4,Qe6+,Kd4,Qb6+,Kxd5', 'Qb7+,Ke5,Qxg2,h1=Q,Qxh1', 'https://lichess.org/training/f9Xir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9Xni', 'Blitz', 'el_rupe', 2412, 'FM HustlinHarper', 2421, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Bg5,Nc6,Nf3,e5,d5,Nd4,Be2,Re8,O-O,c5,dxc6,bxc6,b4,a5,b5,c5,Nd5,Be6,Nxd4,exd4,Bd3,Bxd5,exd5,Qb6,a4,Nd7,Qd2,Ne5,Rae1,f6,Bf4,Re7,Re2,Rae8,Rfe1,Kf7,Bg3,Qd8,f4,Nxd3,Qxd3,f5,Bf2,Bf6,Kf1,Qd7,Rxe7+,Rxe7,Re2,Rxe2,Qxe2,Bd8,g4,Qe8,Qxe8+,Kxe8,Ke2,fxg4,hxg4,h5,gxh5,gxh5,Kf3,Kf7,f5,Bg5,Be1,d3,Bxa5,d2,Ke2,h4,b6,h3,b7,h2,Bxd2,Bxd2,Kxd2,h1=Q,b8=Q,Qg2+,Kc3,Qf3+,Kc2,Qxf5+,Kb3', 'Qb1+,Kc3,Qxb8', 'https://lichess.org/training/F9Xni');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('F9XZS', 'Rapid', 'FischersFrisoer', 2500, 'Sahabat_mf', 2392, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,c6,Nc3,Bb4,cxd5,exd5,e3,Qa5,Bxf6,Bxc3+,bxc3,Qxc3+,Nd2,gxf6,Rc1,Qa3,Be2,Bf5,O-O,Nd7,Bg4,Qd3,Bxf5,Qxf5,Qb3,Nb6,a4,Rb8,a5,Nd7,a6,bxa6,Qa3,Rb6,Rc3,Qe6,Rfc1,Nb8,Nb3,Qe7,Qa2,O-O,Nc5,f5,g3,Qe8,Ra3,Qc8,Qc2,Re8,Rca1,Re7,Qd3,Kg7,Kg2,Rc7,Ra5,Kf6,R1a4,Nd7,Nxd7+,Qxd7,Rxa6,Rxa6,Rxa6,Kg7,Qa3,Rb7,Qc5,Qe6,Qc2,Rc7,Kg1,Qe4,Qb3,Qf3,Qc2,Qe4,Qb3,c5,dxc5,Rxc5,Qb2+,d4,Qxd4+,Qxd4,exd4,Rc7,Kg2,Rd7,Kf3,Kf8,Ke3,Ke8,Rh6,Ke7,Rxh7,a5,Rh5,Kf6,Rh6+,Kg5,Ra6,Rd5,f3,Rb5,h4+,Kh5,Kf4,Rb4,g4+,fxg4', 'fxg4+,Kxh4,Rh6#', 'https://lichess.org/training/F9XZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('f9y8u', 'Blitz', 'cibanir', 1812, 'Desde1987', 1793, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,h3,Nf6,Nc3,Be6,Bxe6,fxe6,d3,Qe7,Na4,Bb6,Nxb6,axb6,a3,O-O,Bg5,Qf7,c3,Ne7,Qb3,Ng6,Qc4,Nf4,Bxf6,gxf6,d4,Kh8,Kh1,Qg7,Rg1,Rg8,g3,Nxh3,Rg2,Nf4,Rh2,Qg4,Nh4,Ne2,Qxc7,Rg7,Qxd6,Rag8,dxe5,Nxg3+,fxg3,Qxg3,Ng6+,Rxg6,Qd1,Qxh2+,Kxh2', 'Rh6+,Qh5,Rxh5#', 'https://lichess.org/training/f9y8u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fA1I0', 'Rapid', 'paul1991', 1816, 'sayrussk', 1796, 'e4,d5,exd5,Nf6,d6,exd6,Nf3,c5,Nc3,d5,d4,Nc6,dxc5,Bxc5,Bb5,O-O,Bxc6,bxc6,O-O,d4,Na4,Bb6,Nxb6,axb6,Nxd4,Qc7,Bg5,Ng4,g3,Qe5,Bf4,Qh5,h4,Be6,Nxc6,Ra4,Nd4,Rd8,c3,Bd5,b3,Raa8,f3,Nf6,Bg5,Qg6,Qb1,Be4,fxe4,Nxe4,Rf3,Nd2,Qxg6,Nxf3+,Nxf3,hxg6,c4,f6,Bf4,Rd3,Nh2,g5,hxg5,fxg5,Bc7,Re8,Nf1,Re7,Bxb6,Re2,Ba5,Kh7,c5,Rf3,Be1,Rc2,b4,Kh6,a4,Kh5,a5,Kg4,a6,Kh3,Bd2,Rxg3+,Nxg3,Kxg3,Be1+,Kh3,Bf2,g4,a7,g3,Ra3', 'Rc1+,Be1,Rxe1#', 'https://lichess.org/training/fA1I0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fa20m', 'Blitz', 'GM Kiborg1987', 2784, 'DoktorMatt', 2686, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Be3,O-O,Qd2,Nd7,O-O-O,Nf6,Bd3,c5,Rhe1,Be6,a3,Re8,Ng5,Qc7,Bf4,Bf8,Nxe6,Rxe6,Rxe6,fxe6,Bc4,Qf7,Bxd6,Rd8,Qe2,Bxd6,Kb1,Nd5,g3,Nc7,f4,g6,a4,Kg7', 'Rxd6,Rxd6,Qe5+,Kg8,Qxd6', 'https://lichess.org/training/Fa20m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fa2Yx', 'Blitz', 'Devrim0724', 1732, 'S_26', 1693, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,a6,Ba4,Ng4,d4,d6,Bxc6+,bxc6,dxe5,Be7,exd6,Bxd6,h3,h5,e5,Be7,Qxd8+,Bxd8,hxg4,hxg4,Nd4,c5,Nb3,c4,Nd4,c5,Ne2,O-O,Bf4,a5,Nbc3,Re8,Ng3,f6,Rfe1,Bc7,Nd5,Bb8,e6,Bxe6,Bxb8,Raxb8,Nc7,Re7,Nxe6,Kf7,Nxc5,Rxe1+,Rxe1,Rxb2,a4,Rxc2,Nf5,Ra2,Nd6+,Kg6,Nxc4,Rc2,Re4,Rc1+,Kh2,f5,Re6+,Kg5,f4+,Kxf4,Ne5', 'g3+,Kh3,Rh1#', 'https://lichess.org/training/Fa2Yx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fa3JV', 'Rapid', 'JWK2020', 1607, 'AhmedMohamed', 1632, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Bf5,d4,Nc6,Be3,Nb4,Bd3,Nxd3+,cxd3,Qa6,Ne5,f6,Qh5+', 'g6,Nxg6,Bxg6', 'https://lichess.org/training/Fa3JV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fa3Z1', 'Blitz', 'bobbbb', 2250, 'rephael', 1965, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Nbd7,Qf3,Qc7,O-O-O,b5,a3,Bb7,g4,Rc8,Bg2,Nc5,Rhe1,Be7,h4,h6,Bxf6,gxf6,f5,Na4,Nxa4,bxa4,c3,e5,Nc2,a5,Ne3,h5,Bf1,hxg4,Qxg4,d5,Bb5+,Kf8,Nxd5,Bxd5,exd5,Bxa3,Qxa4', 'Qxc3+,Kb1,Qxb2#', 'https://lichess.org/training/Fa3Z1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fA5U5', 'Blitz', 'rohit_imchess', 1671, 'Smitty22', 1689, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,b6,cxd5,Nxd5,Bxe7,Nxe7,Bd3,Bb7,O-O,Nd7,Rc1,c5,Nb5,Nf6,Qe2,a6,Nc3,Bxf3,gxf3,cxd4,exd4,Qxd4,Rfd1,Qf4,Ne4,Nxe4,Bxe4,Rac8,Rxc8,Rxc8,Qxa6,h6', 'Qxc8+,Nxc8,Rd8#', 'https://lichess.org/training/fA5U5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fA8xO', 'Rapid', 'Simoatmo007', 1934, 'tofueater', 1931, 'e4,d5,exd5,Nf6,g3,Qxd5,Qf3,Nc6,Bg2,Qe5+,Ne2,Bg4,Qe3,Bxe2', 'Bxc6+,bxc6,Qxe5', 'https://lichess.org/training/fA8xO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Faa5P', 'Rapid', 'vvojnovski', 1703, 'shts', 1716, 'd4,Nf6,Nc3,e6,e4,Bb4,e5,Nd5,Bd2,O-O,Nf3,c5,a3,Bxc3,Bxc3,cxd4,Bxd4,b6,Bd3,Nc6,Be4,Nxd4,Qxd4,Ba6,Bxd5,exd5,Qxd5,Rc8,O-O-O,Rc7,Nd4,Bb7,Qd6,Qc8,f3,Re8,Rhe1,Re6,Nxe6,Rxc2+,Kb1,fxe6,Qxd7', 'Rc1+,Rxc1,Qxd7', 'https://lichess.org/training/Faa5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faAT9', 'Blitz', 'niku85ru', 1697, 'begem', 1726, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Ng8,Nf3,d6,exd6,Bxd6,Bc4,Nf6,d4,O-O,O-O,Bg4,Qd3,Bxf3,Rxf3,Nc6,Bxf4,Bxf4,Rxf4,Qd6,Raf1,Rad8,Ne2,Nb4,Qb3,Nbd5,c3,Ne3,R1f3,Nxc4,Qxc4,Rde8,Qd3,Nd5,Rh4,g6,Rfh3,h5,Rg3,Qe7,Rxh5,Qxe2', 'Rxg6+,fxg6,Qxg6#', 'https://lichess.org/training/faAT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faBgI', 'Classical', 'Tintin41', 1710, 'anver_sarlgaya', 1714, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bd3,c5,Nf3,Bg4,h3,Bh5,g4,Bg6,Be3,O-O,Qd2,a6,g5,Nfd7,h4,Nc6,h5,Nde5,Nxe5,Nxe5,Qe2,c4,hxg6,fxg6,Bxc4+,Kh8,O-O-O,Nxc4,Qxc4,Bxg5,Rd3,Rxf2,Bxg5,Qxg5+,Kb1,Qg2,Rdh3,h6,R3h2,Qf3,b3,Rf8,Kb2,Qg3,Rxf2,Rxf2,Qc8+,Kh7,Qxb7,Qg2,Rc1,a5,a4,Qg5,Qb6,Rf6,Nd5,Re6,Rg1,Qe5+,Ka3,Qxe4,Qxa5,Qxc2,Qa8', 'Qc5+,b4,Qxg1', 'https://lichess.org/training/faBgI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAbPo', 'Rapid', 'KingOfSpain', 1784, 'Akhilendra', 1831, 'e4,c5,f4,g6,Nf3,Bg7,Nc3,e6,Bc4,Ne7,d3,Nbc6,a3,O-O,Be3,b6,Nb5,Bb7,Nd6,Rb8,Qd2,Nc8,Nb5,f5,exf5,Rxf5,Ng5,Bxb2,Rb1,Bg7,h4,d5,Ba2,a6,Nxe6,Qe7,Nbc7,Nd4,c3', 'Nxe6,Nxe6,Qxe6', 'https://lichess.org/training/FAbPo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fACvK', 'Rapid', 'Ecurb604', 1861, 'Pollastrinix', 1879, 'e4,Nc6,Nf3,e5,Bc4,h6,d4,exd4,Nxd4,Ne5,Bb3,Nf6,O-O,a6,a3,Bc5,Bf4,d6,Nf3,Nxf3+,Qxf3,Bg4,Qc3,O-O,e5,Ne4,Qe1,Ng5,Bxg5,hxg5,e6,fxe6,Bxe6+,Bxe6,Qxe6+,Rf7,Nc3,Qf8,Ne4,Re8,Qc4,Re5,Nxc5,Rxc5,Qb3,b6,Rae1,Qd8,c3,Re5,Rd1,Qf6,Rd3', 'Qxf2+,Rxf2,Re1+,Rf1,Rxf1#', 'https://lichess.org/training/fACvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FaDM0', 'Rapid', 'BaltazarN', 1900, 'gerardt', 1984, 'e4,g6,d4,Bg7,Be3,d6,Qd2,Nd7,Nc3,c6,h4,h5,f3,b5,a3,Nb6,Bd3,Rb8,b3,Qc7,Nh3,a6,Nf2,c5,Ne2,c4,bxc4,bxc4,O-O,cxd3,cxd3,Nf6,Rab1,O-O,Rfc1,Qd8,Bh6,Nbd7,Rxb8,Nxb8,Rb1,Nbd7,Bxg7,Kxg7,g4,hxg4,fxg4,Rh8,h5,e5,Qg5,Nh7', 'h6+,Kg8,Qxd8+', 'https://lichess.org/training/FaDM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAeEJ', 'Rapid', 'kreser', 1979, 'Florek2004', 1938, 'c4,e5,Nc3,d6,Nf3,Nf6,e3,Bg4,d4,e4,h3,Bh5,g4,exf3,gxh5,Nxh5,Qxf3,g6,Bd2,Nc6,O-O-O,Qf6,Qg4,Qe7,Bg2,f5,Bxc6+,bxc6,Qf3,Qd7,e4,fxe4,Nxe4,Be7,Rhe1,O-O-O,Qa3,Kb8,Re3,c5,dxc5,dxc5,Nxc5,Bxc5,Qxc5,Qd6,Rb3+,Ka8,Qa5,Nf4,Kb1,Rhe8,Qc3,Re2,Kc2,Nxh3', 'Qf3+,c6,Qxe2', 'https://lichess.org/training/FAeEJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faEhI', 'Rapid', 'Purushottam453', 1866, 'Bekarys-970915', 1964, 'g3,d5,Bg2,Nf6,Nf3,c5,O-O,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,c4,Be7,cxd5,exd5,Bg5,Be6,Nc3,O-O,Rad1,h6,Bxf6,Bxf6,Qb4,Bxc3,bxc3,Qc8,Bxd5,Bxd5,Rxd5,a5,Rxa5,Rxa5,Qxa5,Qc6,Rb1,Re8,e3,Qe4,Qb4,Qd3,a4,Rd8,a5,Rd7,c4,Qe4,Qb5,Rd8,Qxb7', 'Rd1+,Rxd1,Qxb7', 'https://lichess.org/training/faEhI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAeXW', 'Blitz', 'GM kivanchaznedar', 2619, 'IM www68', 2550, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Bd7,b4,cxd4,cxd4,Rc8,Bb2,Na5,Nbd2,Nc4,Nxc4,dxc4,Rc1,c3,Rxc3,Rxc3,Bxc3,Ne7,Bc4,Bb5,Qd3,a6,O-O,Nd5,Rc1,Be7,Bd2,Kd7,Bg5,Rc8,Bxe7,Kxe7,Nd2,Nf4,Qe4,Bxc4,Qxf4,Qb5,Qh4+,Kd7,Qxh7', 'Bd3,Rxc8,Bxh7', 'https://lichess.org/training/FAeXW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faFVi', 'Rapid', 'Not_knighted', 1663, 'VonReuenthal', 1636, 'c4,c5,Nc3,g6,g3,Bg7,Bg2,Nc6,Nf3,b6,O-O,Bb7,d3,e6,Bf4,a6,a4,Na7,d4,cxd4,Nxd4,e5,Bxb7,Rb8,Bxa6,exf4,e4,fxe3,Re1,Ne7,Rxe3,Bxd4,Qxd4,O-O,Qd5,Nxd5,Nxd5,Re8', 'Rxe8+,Qxe8,Nf6+,Kf8,Nxe8', 'https://lichess.org/training/faFVi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAFZd', 'Blitz', 'mosquis', 1693, 'Pan1979', 1654, 'e4,c5,Nf3,Nc6,b3,d6,Bb2,Nf6,d3,g6,h3,Bg7,Nbd2,O-O,Be2,Nd7,O-O,Bxb2,Rb1,Bg7,Ng5,Bh6,h4,Bxg5,hxg5,Nce5,Nf3,Nxf3+,Bxf3,Ne5,d4,cxd4,Qxd4,Nxf3+,gxf3,Qd7,Kg2,f6,gxf6,Rxf6,Rh1,Rf7,Rh2,Qe6,Rbh1,b6,Qa4,Bb7,Rh6,Qc8,Qd4,Qc5', 'Rxg6+,Kf8,Qh8#', 'https://lichess.org/training/FAFZd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FaggC', 'Rapid', 'oddbjorn72', 1666, 'Amol22', 1652, 'e4,e6,Nf3,h6,Ne5,d6,Nc4,b5,Ne3,a6,d4,Bb7,d5,Qe7,dxe6,Qxe6,Bd3,Nf6,O-O,Qe5,Nf5,Nbd7,c3,Bxe4,Bxe4,Qxe4', 'Re1', 'https://lichess.org/training/FaggC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAgW6', 'Rapid', 'Arunasv2', 1724, 'ElCarapolla', 1614, 'e4,c6,Bc4,d6,d3,Nf6,Nc3,g6,Nf3,Bg7,h3,Bd7,Nh4,b5,Bb3,c5,a3,c4,dxc4,bxc4,Bxc4,Nc6,O-O,Rc8,Bb3,Ne5,f4,Neg4,hxg4,Nxg4,Qe2,Bd4+,Kh1,h5,f5,e6,fxg6', 'Qxh4#', 'https://lichess.org/training/FAgW6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faHsX', 'Rapid', 'zabatista', 1664, 'mefistofel82', 1713, 'h4,e5,a4,d5,a5,Nc6,h5,Nf6,Ra4,Bd7,Rah4,e4,e3,Nxa5,Nc3,Be7,h6,g6,R4h2,Bd6,g3,Ng4,Rh4,Ne5,Nxd5,c6,Nf4,g5,Rh5,gxf4,exf4,Bg4', 'Rxe5+,Bxe5,Qxg4', 'https://lichess.org/training/faHsX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAhzo', 'Rapid', 'rraodp', 2051, 'yst32', 1955, 'e4,e5,Nc3,Nf6,f4,Nc6,fxe5,Nxe5,d4,Ng6,e5,Ng8,Bc4,Bb4,Qf3,Qe7,Ne2,c6,O-O,d5,exd6,Bxd6,Bxf7+,Kd8,Ne4,Nf6,Nxd6,Qxd6,Bg5,Rf8,Bxf6+,gxf6,Qxf6+,Qe7,Qg7,Be6,Rae1,Rxf7,Qg8+,Rf8,Rxf8+,Nxf8,Qg3,Kd7,Nf4,Re8,c4,Qf7,Nxe6,Rxe6,Rf1,Qe7,Qb8,Ng6,Qxb7+,Ke8', 'Qc8+,Qd8,Qxe6+', 'https://lichess.org/training/FAhzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FaITp', 'Rapid', 'Gold123', 1649, 'ofmetal', 1647, 'd4,d6,e3,Nd7,h3,h6,Nf3,g5,Qd3,Bg7,Na3,Ngf6,h4,c6,hxg5,hxg5,Rxh8+,Bxh8,Nxg5', 'Qa5+,Qd2,Qxg5', 'https://lichess.org/training/FaITp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faJox', 'Rapid', 'Braddan', 1840, 'darthEdi', 2029, 'e4,e5,Nf3,f5,Nxe5,Qf6,d4,d6,Nc4,fxe4,Be2,Nc6,Be3,g6,O-O,Bg7,Nc3,Bf5,f3,exf3,Bxf3,h5,Nd5,Qf7,Bg5,Bxd4+,Kh1,Nf6,c3,Be5,Re1,O-O-O,Nxf6,Bxf6,Bxf6,Qxf6,Bxc6,bxc6,Qa4,d5', 'Qa6+,Kd7,Ne5+,Qxe5,Rxe5', 'https://lichess.org/training/faJox');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FaKzu', 'Blitz', 'piakademi', 2105, 'dr_personality', 2091, 'e4,e5,f4,exf4,Nf3,g5,d4,g4,Bc4,gxf3,Qxf3,Qf6,e5,Qc6,Bd5,Qxc2,O-O,c6,Bb3,Qf5,Nc3,Bh6,Ne2,Ne7,g3,Qg6,Bxf4,Nd5,Bxh6,Qxh6,Bxd5,cxd5,Qxf7+,Kd8,Qxd5,Qe3+,Rf2,Nc6,Kg2,b6,Raf1,Bb7,Rf8+,Rxf8', 'Rxf8+,Kc7,Qd6#', 'https://lichess.org/training/FaKzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fAmR4', 'Blitz', 'ElDek', 2438, 'FM MennyHobber', 2579, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,f4,b5,Bd3,Bb7,O-O,Bc5,Be3,Nc6,Nce2,Nge7,Kh1,Nxd4,Nxd4,O-O,c3,d6,Qe1,e5,fxe5,dxe5,Nc2,Rad8,Rd1,Rd6,Bxc5,Qxc5,Qe3,Qxe3,Nxe3,Rfd8,Bc2,Rxd1,Rxd1,Rxd1+,Nxd1,f6,Kg1,Kf7,Kf2,Ke6,Ke3,g6,Nf2,Kd6,Nd3,f5,exf5,gxf5,g3,Ng6,a4,Bc6,axb5,axb5,Bb3,Bd7,Bg8,h6,Bf7,Ne7,b3,Nd5+,Bxd5,Kxd5,Nb4+,Kc5,Nd3+,Kd5,Nb4+,Kd6,Nd3,Be6,b4,Bd5,Nc5,Bc6,Kd3,f4,gxf4,exf4,Nb3,Ke5,Nd4,Bd7,Nf3+,Kf5,Kd4,Be8,Ne5,Bh5,h3,Be2,Nf7,Bc4', 'Nd6+,Ke6,Nxc4', 'https://lichess.org/training/fAmR4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fanan', 'Blitz', 'GMriccardobergamini', 1566, 'Trujillo', 1576, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Bg4,d4,g5,Nc3,f6,Ne5,Bxd1', 'Bf7+,Ke7,Nd5#', 'https://lichess.org/training/Fanan');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fanl9', 'Rapid', 'mehdius', 1975, 'exotic_matter', 2000, 'e4,c6,d4,d5,exd5,Qxd5,c4,Qd8,Nc3,e6,Nf3,Bb4,Bd3,Ne7,O-O,Bxc3,bxc3,O-O,Ng5,h6,Qh5,f5,Nf3,Bd7,Re1,Be8,Qh3,Rf6,Ne5,Nd7,Bf4,Nf8,Rad1,Nfg6,Nxg6,Nxg6,Be5,Nxe5,dxe5,Rf7,Bxf5,Rxf5,Rxd8,Rxd8,g4,Rf7,g5,Re7,gxh6,gxh6,Qxh6,Rg7+,Kh1,Bg6,f3,Bf5,Rg1,Rd7,Rxg7+,Rxg7,h4,c5,Qf6,Rd7,h5,Rg7,h6,Rd7,Kh2,b6,Kg3,a6,Kf4,Rf7,Qd8+,Kh7,Kg5,Bg6,f4,b5,cxb5,axb5,Qc8,Rf5+,Kg4,Bf7,Qxc5,Kxh6,Qf8+,Kh7,Qe7,Kg8,Qd8+,Kg7,Qc7,Kh6,Qb7,Bh5+,Kg3,Rf7,Qxb5,Rg7+,Kf2,Bg6,Qb8,Bf5,a4,Rg4,Kf3,Rg7,Qf8,Kh7,a5,Rc7,Qb4,Bg6,a6,Be8,c4,Kg7,Qb7', 'Bc6+,Kg4,Bxb7,axb7,Rxb7', 'https://lichess.org/training/fanl9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAo9Z', 'Blitz', 'fluxion', 1554, 'joniali078', 1522, 'e4,d5,exd5,Qxd5,Nc3,Qd8,g3,Bd7,Bg2,c6,d3,e6,Bf4,Be7,Qg4,Bf6,Rb1,Ne7,Ne4,Ng6,Nd6+,Ke7,Nxb7,Qb6,Bd6+,Ke8,Bxb8,Qxb7,Bd6,Bxb2,Kd1,Qb6,Ba3,Qxf2,Bxb2,Qxg2,Bxg7,Qxh1,Kd2,Qxh2+,Kc3,Rg8,Qd4,Qxg3,Bf6,Nf4,Rb7,Nd5+,Kb2,Rg4,Qc5,Qxg1,Qd6,Rb4+,Rxb4,Qe1', 'Rb8+,Rxb8+,Qxb8+,Bc8,Qxc8#', 'https://lichess.org/training/FAo9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FaoMy', 'Rapid', 'RuneDesnes', 1850, 'Cuch10', 1751, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nge7,Nc3,d6,Bg5,f6,Be3,f5,exf5,Bxf5,Qh5+,g6,Qf3,Qd7,Bb5,a6,Nxc6,Nxc6,Ba4,Bg7,O-O,O-O,h3,Bxc2', 'Qd5+,Kh8,Bxc2', 'https://lichess.org/training/FaoMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faPCO', 'Blitz', 'mehdi58', 2262, 'LM TonyRo', 2347, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,O-O,Nc6,d5,Ne7,b4,a5,bxa5,Nh5,Re1,Rxa5,Nd2,b6,Bxh5,gxh5,Qxh5,f5,exf5,e4,Ndxe4,Bxf5,Bh6,Bg6,Qh3,Nf5,Bxg7,Kxg7,Ng5,Qxg5,Nb5,Nh4,Nxc7,Nf3+,Kh1,Nxe1', 'Ne6+,Kh8,Nxg5', 'https://lichess.org/training/faPCO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fApzH', 'Blitz', 'Burek1987', 1930, 'FM UnquieKnight', 2392, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c6,Bg5,dxc4,a4,Bb4,e3,b5,axb5,cxb5,Be2,Nbd7,O-O,Bxc3,bxc3,a6,Ne5,Bb7,Bf3,Bxf3,Qxf3,O-O,Nxd7,Qxd7,Bxf6,gxf6,Qxf6,Qd5,f4,Qf5,Qh6,Qg6,Qh4,Kh8,Rf3,Rg8', 'Rg3,Qxg3,hxg3', 'https://lichess.org/training/fApzH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fAQFd', 'Rapid', 'Rafakoks13', 2120, 'iceheart6', 2019, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,e3,c6,Bd3,O-O,Qc2,Nbd7,Nge2,Re8,O-O,Nf8,Rae1,Ng6,Ng3,a6,f3,Nd7,Bxe7,Qxe7,e4,dxe4,fxe4,b5,Nf5,Qg5,e5,Nf4,Be4,Bb7,Nd6,Reb8,Bxh7+,Kf8,Qf2', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/fAQFd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAqFF', 'Rapid', 'Navian_King01', 2008, 'alex444444', 1994, 'd4,c5,d5,Nf6,c4,Ne4,Qd3,Qa5+,Nc3,Nxc3,bxc3,g6,e4,Bg7,Bd2,e6,Nf3,d6,Be2,O-O,O-O,Rd8,Rfb1,Na6,Rb5,Qc7,Rab1,Rb8,h3,Bd7,R5b3,Ba4,Ra3,Bd7,Ng5,h6,dxe6,fxe6,Nf3,d5,cxd5,exd5,exd5,Bf5,d6,Qf7,Qb5,Bxb1', 'Bc4,Qxc4,Qxc4+', 'https://lichess.org/training/FAqFF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fARqZ', 'Rapid', 'goaterer7', 2043, 'GrabtheCenter', 2008, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Qc2,d5,Nf3,b6,Be2,Bb7,O-O,Nbd7,a3,Bxc3,bxc3,dxc4,Bxc4,c5,Bb2,Bxf3,gxf3,cxd4,cxd4,Rc8,Qe2,Nd5,f4,Qh4,Bd3,N7f6,Kh1,Ng4,f3,Ngxe3,Rg1,Qxf4,Bc1,Qxd4,Bb2,Nc3,Qd2,Ned5', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/fARqZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faT6W', 'Rapid', 'Aleksandr-Pavlov', 1962, 'isakunichi', 1985, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bg4,Bd3,e6,c3,c5,Qa4+,Nc6,Ne5,Bh5,Bb5,Rc8,Nxc6,bxc6,Bxc6+,Ke7,Bg5+,f6,Bh4,Kf7,Bxd5,exd5,O-O,Bd6,Qxa7+,Rc7,Qa4,c4,Nd2,Be2,Rfe1,Bd3,Nf3,Qd7,Qd1,Rb7,Qd2,Qc7,h3,Bf4,Re3,Bxe3,Qxe3,Rhb8,Bg3,Qe7,Qxe7+,Kxe7,Bxb8,Rxb8,Re1+,Kf7,Ra1,Rxb2,a4,Rb7,Nd2,Ra7,Nf1,Ra5,Ne3,Ke6,f3,f5,Kf2,f4,Ng4,Bc2,Ne5,Rxa4,Rxa4,Bxa4,g4,Be8,h4,g6,Ke2,Kd6,Kd2,Kc7,Kc2,Kb6,Kb2,Ka5,Ka3,Kb5,Kb2,Ka4,Ka2,h6,g5,hxg5,hxg5,Kb5,Ka3,Kb6', 'Kb4,Kc7,Kc5', 'https://lichess.org/training/faT6W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faTv3', 'Blitz', 'Cilya', 1846, 'strniste', 1849, 'e3,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Nf3,c6,Be2,Bf5,O-O,Bd6,d3,O-O,Rb1,Nbd7,b4,a5,a3,axb4,axb4,Qb6,Bd2,Bxb4,Nxd5,Nxd5,e4,c5,exd5,Qa5,Bxb4,cxb4,Nh4,Bg6,Nxg6,hxg6,Qb3,Nf6,Bf3,Rfd8,Qxb4,Nxd5,Qxb7,Rab8,Qxb8,Rxb8,Rxb8+,Kh7,Rb7,f5,g3,Nf6,Rfb1,g5,R7b5,Qa2,R1b2,Qa1+,Kg2,g4,Bb7,g6,Bc8,Qd1,Bb7,Qxd3,R2b3,Qc2,Ba8,Ne4,Rb2,Qd3,R5b3,Qd1,Re3,Qa4,Rbe2,Ng5,Bd5,Nh3,Re7+,Kh6,f4,Qa1,Re1,Qd4,Bg8', 'Qf2+,Kh1,Qf3#', 'https://lichess.org/training/faTv3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faulM', 'Rapid', 'rompeolas', 1957, 'ScorpionKnight', 1954, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nb5,d6,c4,Nf6,N1c3,Be7,Be2,O-O,O-O,a6,Nd4,Bd7,Be3,Rc8,Rc1,Nxd4,Bxd4,e5,Be3,b5,cxb5,axb5,Nxb5,Bxb5,Rxc8,Bxe2', 'Rxd8,Bxd1,Rxf8+,Kxf8,Rxd1', 'https://lichess.org/training/faulM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faV8i', 'Rapid', 'olenchuk', 2064, 'saba8', 1677, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,O-O,h6,cxd4,Bb6,Ba3,d6,d5,Ne5,Nxe5,dxe5,Qb3,Bd7,d6,Qf6,dxc7,Bxc7,Qxb7,Rc8,Nc3,Ne7,Bxe7,Qxe7,Nd5,Qd8,Rad1,O-O,Bb3,a5,Ne3,Rb8,Qa6,Bb5,Rxd8,Bxa6,Rxf8+,Kxf8,Rc1,Bb6,Nd5,Bd4,g3,Bb7,Kg2,Bxd5,exd5,Rd8,Rc6,Ke7,Rc7+,Kd6,Rxf7,Rg8,Rb7,e4,Rb5,Rf8,Rxa5,Rxf2+,Kh3,g5,Ra6+,Ke5,d6,Kf5,d7', 'g4+,Kh4,Rxh2#', 'https://lichess.org/training/faV8i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAvET', 'Rapid', 'E4gle', 1779, 'AlmirBiser', 1767, 'e4,e5,Nf3,Nc6,Bb5,Bd6,c3,a6,Ba4,b5,Bb3,Nf6,d3,O-O,Bg5,b4,Nbd2,bxc3,bxc3,a5,a4,h6,Bxf6,Qxf6,O-O,Ne7,Nc4,Qg6,Ncxe5,Bxe5,Nxe5,Qg5,f4,Qh4,Rf3,d6,Nc4,Kh8,Qd2,f5,Rh3,Qf6,e5,dxe5,Nxe5', 'Qb6+,Qe3,Qxb3', 'https://lichess.org/training/FAvET');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('faVVa', 'Blitz', 'justthislastgame', 1943, 'harshvats', 1954, 'e4,c5,d3,Nc6,f4,d6,g3,h5,Nf3,Bd7,Bg2,Qc7,O-O,O-O-O,c3,f6,a4,e5,f5,Nh6,Nbd2,Ng4,Nc4,Be8,Nh4,Bf7,h3,Nh6,Ng6,Rh7,Qxh5,Be7,Ne3,Rdh8,Qf3,Re8,Nxe7+,Nxe7,Bd2,Reh8,Rfb1,Bb3,Be1,Nf7,Nc4,Ng5,Qe2,Nxh3+,Kf1,Ng5,Nd2,Bf7,b4,cxb4,cxb4,Nc6,Rc1,Kb8,b5,Qb6,bxc6', 'Rh1+,Bxh1,Rxh1+,Kg2,Qg1#', 'https://lichess.org/training/faVVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAVXt', 'Rapid', 'woeh', 1795, 'Ailtonnhamuave', 1738, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Bb4,e3,h6,Bh4,Nbd7,Nf3,O-O,cxd5,exd5,Bd3,Qe8,O-O,Ne4,Bxe4,dxe4,Nd2,Bxc3,bxc3,Nb6,h3,Qc6,Qc2,Qg6,Qxe4,Bf5,Qf3,Rfe8,Rfe1,Rad8,e4,Bxe4,Nxe4,Rxe4,Bxd8,Rxe1+,Rxe1,Nc4,Bxc7,Nd2,Qxb7,a6,Bg3,h5,h4,f5,Qd5+,Kh7,Re6,Qg4,Re5,Qd1+,Kh2,Nf1+,Kg1,Ne3+,Kh2,Ng4+,Kh3', 'Qh1+,Bh2,Qxh2#', 'https://lichess.org/training/FAVXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAWKo', 'Classical', 'FABIAN_BONDOWOSO', 1791, 'CorvusAuream', 1750, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,h3,Nf6,O-O,O-O,Nc3,Be6,Bb3,Nd4,Be3,h6,Re1,Re8,Nd5,Nxb3,Nxf6+,Qxf6,axb3,Bxe3,fxe3,a6,Rf1,Qe7,d4,exd4,exd4,c6,c4,b5,cxb5,axb5,Rxa8,Rxa8,Qd3,Qa7,Kh2,Qa2,d5,cxd5,exd5,Bd7,Nd4,Qxb2,Nxb5,Bxb5,Qxb5,Ra2,Rg1,Qe5+,Kh1,Rd2,Qd7,Rxd5,Rf1,Qe6,Qc7,Rc5,Qb7,d5,b4,Rc6,Rd1,Rd6,b5,d4,Qa7,d3,Qa3,d2,Qb4,Qe2,Qb1,Re6,Kh2,Rb6,Qc2,Rd6,b6,Rxb6,Rxd2,Qe5+,g3,Rg6,Rd3,h5,h4,Re6,Kh3,Qe2', 'Rd8+,Re8,Qxe2', 'https://lichess.org/training/FAWKo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fAwkR', 'Blitz', 'MajorRisk', 1890, 'Passivemood', 1881, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Nxe5,Nxe5,d4,Nc6,d5,Ne5,f4,Ng6,e5,Ng8,d6,cxd6,exd6,Nf6,Nb5,Qa5+,c3,Kd8,f5,Ne5,Bf4,Nc6,Bc4,a6,Nc7,Rb8,Bxf7,b5,O-O,Bb7,Re1,Kc8,Qe2,Nd8,g4,Nxf7,g5,Nd5', 'Qe8+,Nd8,Qxd8+,Kxd8,Re8#', 'https://lichess.org/training/fAwkR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fAxDb', 'Rapid', 'Mind_Magic', 2226, 'Franky980', 2067, 'd4,Nf6,Nf3,e6,Nc3,d5,Bg5,Be7,Bxf6,Bxf6,e4,dxe4,Nxe4,O-O,c3,b6,Qb3,Bb7,Bd3,a5,a4,Nd7,O-O,Bxe4,Bxe4,Rb8,d5,Nc5,Qc4,Nxe4,Qxe4,Qxd5,Qxd5,exd5,Rad1,Rbd8,Nd4,Bxd4,Rxd4,Rfe8,Rfd1,c5,R4d3,Re2,b3,d4,cxd4,Rxd4,Kf1,Rb2,Rxd4,cxd4,Rxd4,Kf8,Rd3,Ke7,g4,Ke6,h4,h6,Kg2,f5,Re3+,Kf6,Rf3,g6,Kg1,Ke5,h5,fxg4', 'hxg6,gxf3,g7', 'https://lichess.org/training/fAxDb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fAxe9', 'Rapid', 'Lucertolo', 2007, 'chalinn13', 2013, 'e4,e6,d3,d5,Nd2,c5,Ngf3,dxe4,dxe4,a6,g3,Nc6,Bg2,Bd6,O-O,Nge7,Qe2,O-O,Nc4,Nd4,Nxd4,cxd4,Nxd6,Qxd6,e5,Qc7,Rd1,Rd8,f4,Bd7,b3,Bb5,Qf2,Qc3,Rb1,Nf5,Bb2,Qc5,Bxb7,Rab8,Be4,Ne3,Rxd4', 'Rxd4,Bxd4,Qxd4', 'https://lichess.org/training/fAxe9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAxTE', 'Blitz', 'maciejpiotr', 1853, 'stefff', 1944, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kf1,Qe7,Nxh8,d5,Bxd5,Nd4,c3,Bg4,Qa4+,Kd8,cxd4,Bxd4,h3,Nxd5,hxg4,Qf6+,Ke1,Qf2+,Kd1,Nf4,Nc3,Bxc3,bxc3,Qe2+,Kc2,Qd3+,Kb3,b5,Qb4,a5,Qc5,b4,Nf7+,Ke8,Nxe5,a4+,Kb2,bxc3+,dxc3,a3+,Kb3,Rb8+,Kxa3', 'Qa6+,Qa5,Qxa5#', 'https://lichess.org/training/FAxTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FaYpM', 'Rapid', 'Stockfish10_Iran', 1917, 'aliabedi6081', 1946, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be7,O-O,O-O,Bf4,Nbd7,c3,c6,Nbd2,Re8,Qc2,Nf8,Rfe1,Ng6,Bg3,Bg4,h3,Bxf3,Nxf3,Bd6,Ne5,Bxe5,dxe5,Nd7,f4,Nc5,Bxg6,hxg6,Bf2,Ne4,Rad1,g5', 'Rxe4,dxe4,Rxd8', 'https://lichess.org/training/FaYpM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fAYvI', 'Classical', 'bugagam', 1694, 'issamsaied', 1614, 'e4,e6,e5,f6,exf6,Nxf6,d4,Bd6,Nf3,O-O,Bg5,Nc6,Nc3,Bb4,Ne5,d5,Bd3,Nxd4,Bxh7+,Kxh7,Qxd4,Bxc3+,Qxc3,Ne4', 'Qh3+,Kg8,Bxd8', 'https://lichess.org/training/fAYvI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FAzDK', 'Blitz', 'chess-K-wool', 1848, 'keraleoval', 2166, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Bf4,e6,a3,Be7,Bd3,O-O,Qd2,a6,Nh3,b5,Ng5,Nc6,Be5,h6,Nf3,Nd7,Bf4,Bf6,Bxh6,gxh6,Qxh6,Re8,Bh7+,Kh8,Bg6+,Kg8,Ng5,Bxg5', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/FAzDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fAzFP', 'Rapid', 'dylmon', 1791, 'Good___Knight', 1775, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,O-O,d6,c3,Ba7,d4,exd4,cxd4,Bg4,h3,Bh5,Bd5,Bxf3,gxf3,Nxd4,Bxa8,Qxa8,Be3,c5,Nc3,Qd8,Nd5,Nf6,Re1,Nxd5,Bxd4,Nf4,Be3', 'Qg5+,Kf1,Qg2#', 'https://lichess.org/training/fAzFP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FaZGm', 'Blitz', 'FatihBKR', 1841, 'NinahPenelope', 1847, 'd4,Nf6,c4,e6,Bd2,b5,cxb5,d5,e3,g6,Nc3,Bg7,Qa4,O-O,Be2,Bd7,h4,a6,h5,c6,hxg6,fxg6,Qc2,axb5,Bd3,Be8,Nf3,Nbd7,O-O-O,Qa5,a3,b4,Na2,c5,dxc5,Ng4,Rdf1,Nde5,Bxb4,Qa7,c6,Nxd3+,Qxd3,Bxc6,Bxf8,Rxf8,Ng5,Ne5,Qb3,Ba4,Qb4,Rc8+,Kb1,Nd3,Qd6,Kh8,Rxh7+,Kg8,Qxe6+,Kf8,Qxg6', 'Bc2+,Ka1,Bxb2#', 'https://lichess.org/training/FaZGm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fb01d', 'Rapid', 'Mnukovic', 1960, 'chinotapia', 2001, 'e4,c5,d3,Nc6,c3,g6,h3,Bg7,Bf4,d6,Qf3,Nf6,Ne2,O-O,Ng3,Nh5,Nxh5,gxh5,Qxh5,Kh8,Qd1,Ne5,Bxe5,Bxe5,Be2,Rg8,g4,e6,Nd2,f5,exf5,exf5,Nc4,Bf4,Bf3,fxg4,Bd5,Re8+,Kf1,gxh3,Qf3,Rf8,Qh5,h2,Be4,Qe7,Re1,Qg7,Rxh2,Bxh2,Qxh2,Bf5,Nxd6,Bxe4,Nxe4,Rf7,Ke2,Raf8', 'Rg1,Qxg1,Qxg1', 'https://lichess.org/training/Fb01d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FB0el', 'Rapid', 'krzysiuchess', 1962, 'hassanshebll', 1950, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,Be6,Bxe6,fxe6,O-O,d5,Re1,Bc5,d4,Bd6,c4,O-O,cxd5,exd5,Qb3,Nf6,Bg5,Nc6,Bxf6,Qxf6,Qxd5+,Kh8,Nc3,Qg6,Re6,Qc2,Rb1,Rad8,Qh5,Nxd4,Nxd4', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/FB0el');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fB0y9', 'Rapid', 'Tripl3Check', 1745, 'DidaSouto', 1752, 'd4,Nf6,c4,e6,Nc3,d5,e3,c5,f4,cxd4,Qxd4,Be7,Nf3,O-O,Bd3,Nc6,Bxh7+,Kxh7,Ng5+,Kg8,Qd3,g6,O-O,Nb4,Qe2,Kg7,a3,Nc6,b4,a6,Bb2,Rh8,cxd5,exd5,Rad1,d4,e4,Qb6,Kh1,dxc3,Bxc3,Bg4,Qxg4,Kf8,Bxf6,Bxf6,Qd7,Rd8,Ne6+,Kg8,Nxd8,Nxd8,Qe8+,Kg7,Qa4,Qe6,e5,Be7,Rd7,Qc4,Rdd1,Ne6,f5,gxf5,Rxf5,Qh4,h3,Qe4,Rdf1,Rxh3+,Kg1,Qd4+,R5f2,Rh5,Qe8,Bh4', 'Qxf7+,Kh6,Qxe6+,Kh7,Qf7+', 'https://lichess.org/training/fB0y9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FB5Ok', 'Blitz', 'GM tgk59', 2591, 'Chessmedic123', 2255, 'c4,e6,g3,Nf6,Bg2,d5,Nf3,Be7,O-O,O-O,Qc2,Nbd7,d4,c6,Rd1,b6,Nbd2,Bb7,e4,Rc8,b3,c5,exd5,exd5,Bb2,Qc7,Rac1,Qb8,Qf5,g6,Qh3,Rfd8,dxc5,Nxc5,Be5,Qa8,Qh4,Ncd7,Ba1,dxc4,bxc4,Re8,Re1,Ne4,Qh6,Bf8,Qf4,Nxd2,Qd4,Nxf3+,Bxf3,Rxe1+', 'Rxe1,f6,Qxd7', 'https://lichess.org/training/FB5Ok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fb6mv', 'Blitz', 'Farmville', 2601, 'AndreyKhokhlov', 2187, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,N1e2,Nf6,Nf4,e5,Nxg6,hxg6,dxe5,Qa5+,Bd2,Qxe5+,Qe2,Qxe2+,Bxe2,Be7,O-O-O,Nbd7,Bc4,O-O,h4,Ne5,Bb3,Neg4,Rdf1,Bc5,Be1,Rad8,a3,Rfe8,h5,gxh5,Nxh5,Nxh5,Rxh5,Bb6,Rf5,Re7,Bc3,Bd4,Rd1,c5,Rxc5,Bxc5,Rxd8+,Kh7,f3,Ne3,Kb1,Nxg2,Bc4,Nf4,Bd2,g5,Bc3,Kg6,Rg8+,Kf5,Rc8,b6,Rc6,Ne6,Bd5,Kf4,Bd2+,Kf5,Be4+,Kf6', 'Bc3+,Bd4,Bxd4#', 'https://lichess.org/training/fb6mv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fb7jB', 'Blitz', 'Edo_84', 1793, 'Liparit', 1801, 'd4,d5,e3,Bf5,Bd3,e6,Bxf5,exf5,c3,Bd6,Na3,g6,Nc2,f6,Qe2,Ne7,Bd2,Nd7,f3,c5,Nh3,c4,Nf2,Qb6,O-O-O,a5,h4,Qc6,h5,g5,g4,h6,gxf5,Nxf5,e4,dxe4,fxe4,Ng3,Qe3,Nxh1,Rxh1,O-O,Rf1,Bf4,Qe2,Bxd2+,Qxd2,b5,a3,b4,cxb4,axb4,Nxb4,Qb6,Qc3,Rad8,Ng4,Nb8,Nxh6+,Kg7,Nf5+,Kh7,Kb1,Nc6,Nd5,Qb7,Qxc4,Ra8,Ka1,Na5,Qb4,Nb3+,Kb1', 'Qxb4,Nxb4,Nd2+,Kc2,Nxf1', 'https://lichess.org/training/fb7jB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FB7rX', 'Rapid', 'Alejo_0712', 1957, 'Amir4chess', 1938, 'e4,c5,c3,e5,Bc4,Nf6,Qc2,Be7,Nf3,d6,d4,cxd4,cxd4,exd4,Nxd4,O-O,O-O,Nc6,Ne2,Be6,Bxe6,fxe6,Bd2,Rc8,Nbc3,Nb4,Qb3,d5,a3,Nc6,exd5,exd5,Nf4,Na5,Qa2,Nc4,b3,Nxd2,Qxd2,d4,Nb5', 'Ne4,Qd3,Rxf4', 'https://lichess.org/training/FB7rX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fb8ZP', 'Blitz', 'FM HustlinHarper', 2402, 'FM rdarruda', 2496, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qxe7+,Ngxe7,c3,d5,exd5,Nxd5,Bc4,Be6,Na3,b5,Be2,O-O-O,O-O,Rhe8,Nc2,Kb7,a4,b4,Ne3,Nf4,Bf3,f5,Bxc6+,Kxc6,cxb4,Rd4,Nc2,Ne2+,Kh1,Rc4,b5+,axb5,axb5+,Kb7,Na3,Rxc1,Raxc1,Nxc1,Rxc1,Rd8,h3,Rd2,Rc2,Rxc2,Nxc2,Kb6,Na3,Kc5,Kh2,Bd5,g4,f4,h4,Kb4,g5,Kb3,b6,Kb4,Kh3,Kc5,Kg4,g6,h5,Be6+,Kf3,Kxb6,hxg6,hxg6', 'Ke4,Bf5+,Kxe5', 'https://lichess.org/training/Fb8ZP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fbaIx', 'Rapid', 'MassimoDecimoMeridio', 1730, 'Costa_p', 1904, 'c4,Nf6,g3,c6,Nc3,d5,cxd5,cxd5,Bg2,e6,e3,Nc6,Nge2,Qa5,O-O,b5,Nf4,b4,Nce2,Ba6,b3,Qb6,Bb2,Bxe2,Nxe2,a5,Bxf6,gxf6,Rc1,Bg7,Nf4,f5,Nh5,O-O,Qf3,Ne5,Qf4,h6', 'Nxg7,Kxg7,Qxe5+', 'https://lichess.org/training/fbaIx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fBAmA', 'Classical', 'lpmr', 1847, 'pulkitjain41', 1805, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,h6,Bf4,Nc6,Nc3,g5,Be3,Bg7,O-O,Bg4,h3,Be6,Bb5,Bd7,h4,g4,Nd2,a6,Bc4,Nd4,Nd5,Nxd5,Bxd5,Rb8,c3,e6,Qxg4,exd5,Qxg7', 'Ne2+,Kh1,Qxh4#', 'https://lichess.org/training/fBAmA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FBBfl', 'Blitz', 'Bshopred1', 1804, 'cagri_kivrakdal', 1803, 'd4,d5,c4,c6,Nc3,Bf5,cxd5,cxd5,Nf3,Nc6,e3,a6,Qb3,e6,Qxb7,Nb4,Nb5,Nc2+,Kd2,Bb4+,Kd1,Rc8,Na7,Rb8,Qc6+,Qd7,Qxa6,Nf6,Ne5,Qc7,Bb5+,Kf8,Nd7+,Nxd7,Bxd7,Qxd7,Nc6,Rc8,Nxb4,Nxb4,Qa3,Qe7,Bd2,Bc2+,Ke2,Bd3+,Kd1,Nc2,Qa6,Nxa1', 'Qxc8+,Qe8,Bb4+,Kg8,Qxe8#', 'https://lichess.org/training/FBBfl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FbF8T', 'Rapid', 'almuttahedoun', 2083, 'trrrasss', 1695, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Neg5+,Ke8,d4,Be7,dxe5,h6,Nh3,Bxh3,gxh3,Qd7,Rg1,Rg8,Bf4,Qxh3,Rg3,Qf5,Qd2,Rd8,O-O-O,Qe6,Re1,g5,Be3,g4,Nd4,Nxd4,Bxd4,Bg5,Be3,Bxe3,Rgxe3,d4,Rb3,b6,Kb1,Rd5,f4,gxf3,Rxf3,Rxe5,Rxe5', 'Rg1+,Qc1,Rxc1+,Kxc1,Qxe5', 'https://lichess.org/training/FbF8T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FbFKI', 'Blitz', 'Alitof', 1984, 'LLSSW', 2189, 'e4,d6,f4,Nf6,d3,g6,Be2,Bg7,c4,O-O,Nc3,c6,Be3,Nbd7,g4,e5,g5,exf4,gxf6,fxe3,fxg7', 'Qh4+,Kf1,Qf2#', 'https://lichess.org/training/FbFKI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fbIDm', 'Blitz', 'FM WattSchrott', 2414, 'Amir_HD_2006', 2447, 'e4,d6,d4,Nf6,Nf3,g6,Nc3,Bg7,Bd3,O-O,O-O,c5,d5,Na6,Ne2,c4,Bxc4,Nxe4,Ned4,Nf6,Bxa6,bxa6,Nc6,Qc7,c4,Bb7,Nfd4,e5,Nb3,Bxc6,dxc6,Qxc6,Be3,Rfd8,Rc1,Nd7,Qd5,Rac8,Na5,Qxd5,cxd5,Nb6,Nc6,Nxd5,Nxd8,Rxd8,Bxa7,e4,b3,Nb4,Rc7,d5,Rfc1,Nxa2,Rc8,Rf8,Rxf8+,Bxf8,Rc8,Kg7,Bd4+,f6,Bxf6+,Kxf6,Rxf8+,Ke5,Ra8,Nc1,Rxa6,Nxb3,Kf1,Nc5,Ra7,h5,h4,Ne6,Re7,Kf6,Rd7,Ke5,Re7,d4,Ke2,Kf6,Rd7,Ke5,g3,Kf5,Ra7,Ke5,Ra5+,Kf6,Rd5,Ke7,Re5,Kf6,Rxe4,Kf5,Kf3,g5,Rxe6', 'g4+,Ke2,Kxe6,f3,gxf3+', 'https://lichess.org/training/fbIDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fBISv', 'Rapid', 'thomarr', 1734, 'lindomarm12', 1720, 'd4,d5,c4,e6,e3,Nf6,Nc3,Bb4,cxd5,Nxd5,Ne2,Nxc3,Nxc3,Nc6,a3,Ba5,b4,Bb6,Na4,O-O,Nxb6,axb6,Bd3,e5,Qc2,exd4,Bxh7+,Kh8,Be4,dxe3,Bxe3,f5,Rd1,Qe7,Bxf5,Bxf5,Qc3,Rad8,Rxd8,Rxd8,O-O,Rd3,Qc1,g6,Re1,Qd7,Bf4,Rd4,Bxc7,Qxc7', 'Qh6+,Kg8,Re8+,Kf7,Qf8#', 'https://lichess.org/training/fBISv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fBJ2X', 'Rapid', 'SqueegieWeegie', 1986, 'mtnakgul', 1898, 'e4,e5,Nf3,d6,d4,Nd7,Bc4,c6,dxe5,dxe5,O-O,Be7,Nc3,Ngf6,Bg5,O-O,a4,Qc7,Nh4,Nc5,Re1,Ne6,Bxe6,Bxe6,Qe2,Ng4,Bxe7,Qxe7,Nf5,Bxf5,exf5,Nf6,Qxe5,Qb4,Qg3,Qxb2,Ra2,Qb4,Rb1,Qe7,Raa1,b6,Re1,Qc5,Re5,Qc4,h4,Ng4', 'Re4,Qc5,Rxg4', 'https://lichess.org/training/fBJ2X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fBJa4', 'Rapid', 'Deepdrawing', 1789, '1169', 1740, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,Bxc3,Nxc3,dxc3,Qb3,Qf6,Bg5,Qg6,Qxc3,Nf6,e5,Ne4,Qe3,Nxg5,Nxg5,O-O,Bd3,Qh6,Bxh7+,Kh8,Qf4,d6,e6,Bxe6,Be4,f6', 'Nxe6,Qxf4,Nxf4', 'https://lichess.org/training/fBJa4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fBM3i', 'Classical', 'UliK', 1854, 'BlackWithTwoKings', 1991, 'e4,c5,c3,e5,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Bc4,Nc6,Bxf7,Nf6,f3,b5,Na3,a6,Bg5,Ra7,Bd5,Ne7,c4,Nexd5,cxd5,h6,Be3,Bd6,b4,Rc7,Rc1,c4,Nc2,Ke7,Ne2,Bd7,O-O,g6,Nc3,h5,Bg5,Kf7,Ra1,Kg7,a4,bxa4,Nxa4,Bb5,Nc3,Nd7,Ra5,Rb8,Rfa1,Rcb7,h4,Bc7,R5a3,Bb6+,Kh2,Bd4,R1a2,Nb6,d6,Bxc3,Rxc3,Rd7,Be7,Nc8,Ne3,Nxe7,dxe7,Rxe7,Nd5,Rd7,Rd2,Rbd8,Kh3,Rc8,Rdc2,Kf7,Nb6,Rcc7,Nxd7,Rxd7,g4,Rd3,Rxd3,cxd3,Rd2,Kf6,g5+,Ke6,Kg3,Kd6,f4,Ke6,Kf3,Kd6,Ke3,Ke6,Kf3,Bc4,Ke3,Bb5,Rxd3', 'exf4+,Kxf4,Bxd3', 'https://lichess.org/training/fBM3i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FbMJz', 'Classical', 'jazireh', 1693, 'fdiodgh16829', 1617, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Bc5,Be3,Nd4,c3,Nxf3+,Qxf3,Nf6,Bxc5,d6,Be3,Bg4,Qg3,h5,O-O', 'h4,Qxg4,Nxg4', 'https://lichess.org/training/FbMJz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fbMRN', 'Blitz', 'DEAFROCK', 1789, 'bgdu44', 1709, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Nf3,Bg4,Be2,e6,O-O,Bd6,Bg5,Nbd7,Qd3,Qc7,Nb5,Qb8,Nxd6+,Qxd6,Qb5,O-O,Qxb7,Rfb8,Qa6,Qxa6,Bxa6,Rxb2,Ne5,Bf5,c3,Nxe5,dxe5,Ne4,Bc1,Rb6,Bd3,Nxc3,Bxf5,exf5,Be3,Rb2,a3,g6,g3,a5,Kg2,Rab8,Rac1,Ne4,Rc6,Ra2,Rfc1,Rbb2,Bh6,Rxf2+,Kg1,f6', 'Rc8+,Kf7,R1c7+,Ke6,Re8#', 'https://lichess.org/training/fbMRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FbNXe', 'Blitz', 'MaxiChahla', 1713, 'Ahcekhock', 1619, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nb4,Bb3,c6,a3,Na6,d4,Kd7,Nxd5,cxd5,dxe5,Kc6,Be3,Be6,c4,Bc5,Rd1,Nc7,Bxc5,Kxc5,cxd5,Bxd5,Qe3+,Kc6,Qc3+,Kb6,Qb4+,Ka6,Rxd5,Nxd5', 'Bc4+,b5,Qxb5#', 'https://lichess.org/training/FbNXe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fbOyj', 'Blitz', 'GM volodja49', 2433, 'KramnikZero', 2329, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,Nxd5,Nf3,Be7,e4,Nxc3,bxc3,c5,Be2,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O,Nd7,Rfd1,b6,Qe3,Bb7,h3,h6,Rac1,Rc8,Rxc8,Qxc8,d5,exd5,exd5,Re8,Qd2,Nf6,d6,Qc5,Rc1', 'Rxe2,Rxc5,Rxd2,Nxd2,bxc5', 'https://lichess.org/training/fbOyj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fbpP8', 'Rapid', 'Ibragimm', 1630, 'shakii-94', 1613, 'e4,c5,Bc4,Nf6,d3,d6,Bg5,e6,Nf3,Be7,O-O,O-O,Nc3,h6,Bh4,Nc6,a3,e5,Nd5,Nxd5,Bxe7,Ndxe7,h3,Ng6,c3,Kh8,Bd5,Nf4,Bxc6,bxc6,Nd2,Nxd3,Qc2,Nf4,Nc4,Qg5,g4,Bxg4,Kh2,Nxh3,Rg1,Qf4+,Rg3,Nxf2,Rf1,Qxe4,Qxe4,Nxe4,Rxg4,d5,Nxe5,f5,Ng6+,Kg8,Rgf4,Rf6,Ne5,Rb8,Rxf5,Rxb2+,Kh3,Rb3,Rxf6,Nxf6,Rf3,d4,Nxc6,dxc3,Na5,c2', 'Nxb3,c4,Nc1', 'https://lichess.org/training/fbpP8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FBts3', 'Rapid', 'Chalah', 2346, 'blacksovereign', 1938, 'e4,c5,Nc3,e5,Bc4,Nf6,d3,h6,Nf3,d6,h3,Be7,O-O,O-O,Be3,a6,a4,Nbd7,a5,b5,axb6,Nxb6,Bb3,Be6,Bxe6,fxe6,Bd2,Qc7,Ne2,d5,Ng3,Rfd8,Qc1,Kh7,Ba5,Qb7,Nxe5,dxe4,dxe4,Nxe4,Bxb6,Nxg3,Bxd8', 'Ne2+,Kh1,Nxc1', 'https://lichess.org/training/FBts3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fbU9n', 'Classical', 'SlimyCat', 1795, 'dehdar3258', 1789, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,c6,Nf3,Qc7,O-O,Nf6,d4,Bf5,Re1,e6,Bd3,Bg6,Bg5,Nbd7,Ne5,Be7,Nxd7,Nxd7,Bxe7,Kxe7,Qg4,Nf6,Qh4,Kf8,Bxg6,fxg6,Rxe6,Re8,Rae1,Rxe6,Rxe6,Kf7,Re1,Rd8,Qh3,Rxd4,Qe6+,Kf8,Ne4,Qe7,Ng5,Qd7,Qxd7,Rxd7,f3,h6,Ne6+,Kf7,Nc5,Rd2,Nxb7,Rxc2,Na5,Rxb2,Nxc6,Rxa2,Re7+,Kg8,Rxa7,Rxa7,Nxa7,g5,Kf2,Nd5,Nc6,Kf7,Nd4,Kf6,g3,h5,h3,g6,h4,gxh4,gxh4,Nf4,Kg3,Nd3,f4,Nc5,Nf3,Ne4+,Kh3,Kf5,Ne5,Nf2+,Kg3,Ne4+,Kf3,Nf6,Nf7,Ne4', 'Nh6+,Ke6,Kxe4', 'https://lichess.org/training/fbU9n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fBurn', 'Rapid', 'Alaapkpok', 1824, 'DIMA_KOVALENKO', 1818, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,Nf6,Bd2,d6,Qc1,Be6,Nd5,Nd4,Nxd4,Bxd4,c3,Bxd5,Bxd5,Nxd5,cxd4,Nf6,dxe5,dxe5,O-O,O-O,Bxh6,gxh6,Qxh6,Nh7,f4,exf4,Rxf4,Qd4+,Kh1,Qg7,Qh4,Kh8,Raf1,Qxb2,Qh5,Rg8,R4f2,Qg7,g3,Qg6,Qe5+,Rg7,Rxf7,Kg8,Rxc7,Rxc7,Qxc7,Qc6,Qf4,Qe6,a4,Rf8,Qc1,Rxf1+,Qxf1,Qb3,a5,Qb5,Qh3,Qxd3,Qc8+,Nf8,Qxb7', 'Qf1#', 'https://lichess.org/training/fBurn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FbUTe', 'Rapid', 'fgsjh', 1639, 'Phelipi', 1662, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Nf6,Nf3,Qe6,O-O,Nc6,d4,Qd6,Nb5,Qd8,Bf4,Nd5,Bxc7,Nxc7,c4,e6,Qa4,Nxb5,cxb5,Ne7,Rad1,Nd5,Ne5,Nb6,Qb3,Nd5,Qf3,f6,Qh5+,Ke7', 'Qf7+,Kd6,Nc4#', 'https://lichess.org/training/FbUTe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FBUTf', 'Rapid', 'vf75', 1717, 'EddieCalvert', 1748, 'c4,e5,e4,Nc6,Nf3,Nf6,d3,Bc5,h3,a6,a3,b5,b4,Ba7,c5,a5,Bd2,axb4,axb4,Bb7,Qb3,Nd4,Nxd4,exd4,g4,d5,g5,Nh5,Be2,g6,e5,O-O,Qb2,Qe7,Qxd4,Bxc5,bxc5,Rxa1,Qxa1,Qxc5,Be3,Qc6,Bxh5,gxh5,d4,Qc2,Nd2,Ra8,Qd1', 'Qxd1+,Kxd1,Ra1+,Nb1,Rxb1+', 'https://lichess.org/training/FBUTf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fBuyh', 'Rapid', 'Hobaco', 1984, 'Siam', 1903, 'c4,e6,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,c6,d4,a6,e4,Nf6,Nge2,b5,a3,Bb7,O-O,Qc7,Bf4,Qd7,Rc1,Nh5,Qd2,Be7,Rfd1,O-O,Be3,a5,e5,Na6,g4,Nf6,exf6,Bxf6,g5,Be7,Bf4,Qe8,Ne4,c5,Nd6,Bxd6,Bxd6,Bxg2,Bxf8,Bd5,Bxc5,f6,gxf6,Qg6+,Ng3,Qxf6,Qe3,Rf8,Bxf8,Qxf8,Ne4,Qf5,Nc5,Nxc5,Rxc5', 'Qg4+,Kf1,Qxd1+', 'https://lichess.org/training/fBuyh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FbvE0', 'Rapid', 'taylan362', 1707, 'Vladimirvydysh', 1716, 'e4,e6,d4,c6,c4,a6,Nc3,b5,b3,b4,Na4,a5,a3,d5,cxd5,cxd5,exd5,Qxd5,axb4,Bxb4+,Bd2,Nd7,Qe2,Ba6,Qf3,Bxd2+,Kxd2,Qg5+,Qe3,Qd5,Bxa6,Rxa6,Rc1,Ngf6', 'Rc8+,Ke7,Rxh8,Qxg2,Qf3', 'https://lichess.org/training/FbvE0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FBw1i', 'Rapid', 'brentwoodmansee', 1788, 'louisboi', 1837, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,d6,Nxc6,bxc6,Bxc5,dxc5,Qxd8+,Kxd8,Nc3,Nf6,O-O-O+,Ke7,e5,Nd7,f4,Nb6,Ne4,Bg4,Rd3,Bf5,Re3,Nd5,Re1,Nxf4,Nxc5,Rab8,g3,Nd5,Bd3,Bxd3,cxd3,Rb5,d4,Rhb8,Re2,Nc3,Rf2,Nxa2+,Kd1,Rxb2,Rhf1,Rb1+,Ke2,R8b2+,Ke3,Rxf2,Rxf2,Nb4,Ne4,Rb3+,Kf4,Nd5+,Kg4,Re3,Ng5,f6,exf6+,Nxf6+,Kh3,h6,Nf3,Rb3,Ne5,Rb6,Re2,Kd8,Rc2,Kc8,Nxc6,Kb7,Nd8+,Ka8,Rxc7,g5,Nc6,Ra6,Ne7,Rd6,Rc6,Rxc6,Nxc6,Nd5,Kg4,Kb7,Nd8+,Kb6,Kh5', 'a5,Ne6,a4,Nc5,a3', 'https://lichess.org/training/FBw1i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fbWsA', 'Rapid', 'vittalsk89', 1734, 'Mr_Ruslan', 1759, 'd4,d5,Bf4,Bf5,Nf3,e6,e3,f6,c4,c6,Qa4,Nd7,Nc3,Be7,cxd5,exd5,Be2,h5,O-O-O,g5,e4,dxe4,Bd2,exf3,Bxf3,Qb6,Be3,O-O-O,d5,c5,d6,Bxd6,Rxd6,Qxd6,Qxa7,Qb8,Qa3,b6', 'Qa6+,Kc7,Nb5#', 'https://lichess.org/training/fbWsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fbx0a', 'Rapid', 'jonyan', 1826, 'goddamnedindependent', 1943, 'e4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Be7,Nd5,O-O,f4,Nxd5,Bxd5,c6,Bb3,Bh4+,g3,Be7,Bd2,Bg4,Bc3,Bf6,Qb4,Bxc3+,Qxc3,Re8,Qc4,d5,Qc5,Rxe4+,Kd2,Re2+,Kd3,Qf6,Rae1,Qf5+,Kc3,Rd8,h3,d4+,Kb4,Qxc5+,Kxc5,Rxe1,Rxe1,Bxh3,Rd1,Be6,Bxe6,fxe6,Rxd4,Rxd4,Kxd4,Kf7,Ke5,Ke7,c4,g6,b4,h5,a4,b6,c5,bxc5,bxc5,a6', 'a5,Kd7,Kf6', 'https://lichess.org/training/fbx0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FBxp6', 'Blitz', 'PromeLEE', 1994, 'GM CristhianC92', 2422, 'c4,e6,Nf3,d5,g3,Nf6,Bg2,Be7,O-O,O-O,b3,b6,Bb2,Bb7,e3,Nbd7,Qe2,c5,cxd5,exd5,d4,Qc7,Nbd2,Rac8,dxc5,bxc5,Rac1,Qa5,a3,Ba6,Qd1,Bxf1,Bxf1,Rfd8,Qc2,c4,b4,Qb6,e4,dxe4,Nxe4,Qc6,Nfg5,h6', 'Nxf6+,Nxf6,Bxf6,hxg5,Bxe7', 'https://lichess.org/training/FBxp6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fbxxF', 'Blitz', 'NM isainz', 2146, 'Caebenxio', 2198, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Nxc6,bxc6,e5,Nd5,Ne4,Bb7,Be2,c5,O-O,Qc7,c4,Nb4,Nd6+,Bxd6,exd6,Qb6,Be3,O-O,a3,Na6,b4,Rac8,Qa4,Nb8,Bxc5,Qd8,Qxa7,Bc6,Be3,f5,b5,Be4,c5,f4,Bd4,f3,Bxf3,Rxf3,Rfe1,Bd5,gxf3', 'Qg5+,Kf1,Bc4+', 'https://lichess.org/training/fbxxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FBzfv', 'Blitz', 'Dgomez17', 2298, 'pietro75', 2257, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,d5,e3,O-O,Nf3,Be7,cxd5,exd5,Be2,c6,Ne5,Nbd7,f4,Re8,O-O,Bf8,Qc2,Nb6,Rae1,a5,b3,a4,Nxa4,Nxa4,bxa4,Ne4,Bd3,Nxd2', 'Bxh7+,Kh8,Nxf7#', 'https://lichess.org/training/FBzfv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fc59D', 'Classical', 'Cosine180', 2452, 'Sarah-Sh', 1898, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,g3,Bd7,Bg2,Nc6,O-O,Nxd4,Qxd4,Bc6,b3,O-O,Bb2,Ne8,Qd2,Bf6,Rfe1,a5,Rad1,Qc8,h3,a4,f4,axb3,axb3,g6,e5,dxe5,fxe5,Bg7,Bxc6,bxc6,Kh2,Qe6,Ne4,h6,Nf6+,Kh8,Qd7,Nxf6', 'exf6,Qxf6,Bxf6', 'https://lichess.org/training/Fc59D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fC6qL', 'Blitz', 'datca', 1726, 'primetime1979', 1643, 'e4,c5,Bc4,d6,c3,Nf6,d3,g6,h3,Bg7,Nf3,Nc6,a4,O-O,Bb3,Nd7,O-O,Nde5,Nh2,Na5,Bc2,Nac6,f4,Nd7,Nd2,Nb6,a5,Nd7,Nc4,Re8,f5,Nf8,fxg6,fxg6,Qf3,Be6,Ng4,Ne5,Ncxe5,dxe5,Bh6,Bxg4', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/fC6qL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fc7PX', 'Rapid', 'Cleiton_Erick-MT', 2077, 'CelsoH', 1913, 'Nc3,c6,Nf3,d5,e3,Bg4,h3,Bxf3,Qxf3,e5,Be2,Nf6,O-O,Bd6,d4', 'e4,Qf5,g6,Qg5,h6,Qh4,g5', 'https://lichess.org/training/Fc7PX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fc8Zs', 'Rapid', 'Vivekanand211074', 1725, 'hemanth1520', 1718, 'b4,e5,Bb2,d6,b5,Bd7,e3,Nf6,Qf3,a6', 'Qxb7,Nc6,bxc6', 'https://lichess.org/training/fc8Zs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FcAPJ', 'Rapid', 'Boro-i-Ramiz', 1962, 'gasparripdl', 2007, 'd4,Nf6,Nc3,e6,e4,Bb4,Bd3,d5,e5,Nfd7,Bd2,c5,dxc5,Nxe5,Nf3,Nxd3+,cxd3,Bxc5,d4,Bb4,O-O,Bd7,Ne5,Nc6,Nxd7,Qxd7,a3,Ba5,b4,Bc7,Be3,O-O,Qg4,Ne7,Ne2,Ng6,f4,f5,Qh3,Qb5,Ng3,Qd3,Rae1,a5,b5,Bb6,Kh1,Bxd4,Bxd4,Qxd4,Nh5,Rfe8,Qg3,Rac8,Rc1,Rxc1,Rxc1,Qb2,Re1,Qxb5,Qc3,Qd7,Rd1,b6,h3,Rc8,Qd4,Rc5,Re1,Qf7,Rxe6,Nh4', 'Re8+,Qxe8,Qxg7#', 'https://lichess.org/training/FcAPJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fCbi8', 'Blitz', 'Anand1282_Dragon', 1636, 'Schainzo', 1563, 'e4,e5,d4,exd4,Qxd4,Nc6,Qa4,d6,Nc3,Bd7,Qb3,Nd4,Qd5,Nxc2+,Kd2,Nxa1,Bc4,Qe7,Qxb7,Rc8,Bb5,Bxb5', 'Qxc8+,Qd8,Qxd8+,Kxd8,Nxb5', 'https://lichess.org/training/fCbi8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FCebz', 'Blitz', 'ChessTo-28', 1722, 'OSOSA_1968', 1749, 'd4,Nf6,Nf3,c5,c3,cxd4,cxd4,d6,g3,g6,Bg2,Bg7,O-O,Nc6,a3,Bd7,b4,a6,Bb2,Rc8,Nbd2,b5,Re1,O-O,e4,Qb6,d5,Nd8,Rb1,e6,e5,dxe5,Nxe5,Qa7,Nxd7,Qxd7,dxe6,Nxe6,Nf3,Qc7,Nd4,Nxd4,Bxd4,Nh5,Bc5,Rfe8,Qb3,Nf6,Rxe8+,Rxe8,a4,Qe5,axb5,axb5,Bf3,Ne4', 'Re1,Nxc5,Rxe5,Nxb3,Rxe8+', 'https://lichess.org/training/FCebz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fCeSd', 'Rapid', 'Mmoo97', 1764, 'Abdelkaben', 1843, 'd4,d5,c4,a6,Nf3,h6,e3,Nc6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,Bg4,Be3,e6,h3,Bh5,Be2,Be7,Qd2,O-O,Bxh6,gxh6,Qxh6,Bg6,Rb1,e5,Rxb7,Rc8,O-O,exd4,cxd4,Nxd4,Nxd4,Bg5,Nc6,Bxh6,Nxd8,Rfxd8,Bxa6,Ra8,Bc4,Bf4,g3,Bd6,Bd5,Ra4,Re1,Re8,Bc6,Rexe4,Rxe4,Bxe4', 'Rb8+,Kg7,Bxa4', 'https://lichess.org/training/fCeSd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FcFd3', 'Rapid', 'offbyhead', 1669, 'patoch1', 1681, 'e4,c5,Nf3,e6,d4,d5,exd5,Qxd5,c4,Qd6,d5,exd5,cxd5,Nf6,Nc3,Na6,Qa4+,Bd7,Bb5,O-O-O,Bf4,Qxf4,Qxf4,Re8+,Ne5,Nb4,Bxd7+,Nxd7,O-O,Nxe5,Rac1,Nbd3,Qf5+,Kc7,d6+,Bxd6,Nb5+,Kc6,Nxd6,Kxd6,Rcd1,c4,f4,Nc6,Rxd3+,cxd3,Qxd3+,Kc7,Rc1,Rd8,Qc4,Rd7,Qc5,a6,Qe5+,Kb6,Qc5+,Kc7,Qe5+,Kb6,Qxg7,Rhd8,Qg4,Nd4,Qd1,Nf5,Qb3+,Ka7,g4,Nd4,Qe3,Ka8,Qe4,Ne6,f5,Ng5,Qf4', 'Nh3+,Kg2,Nxf4+', 'https://lichess.org/training/FcFd3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fCFJk', 'Rapid', 'stronger', 2087, 'StormBreaker14', 2208, 'd4,Nf6,c4,c5,e3,d5,Nf3,e6,cxd5,exd5,dxc5,Bxc5,Be2,O-O,O-O,Nc6,a3,d4,b4,Bb6,Nxd4,Nxd4,exd4,Bxd4,Ra2,Qb6,Rd2,Be5,Bb2,Bxb2,Rxb2,Bf5,Bf3,Rad8,Rd2,Rxd2,Qxd2,Ne4,Bxe4,Bxe4,Nc3,Rd8,Qf4,Bg6,Rc1,h6,h3,Kh7,Na4,Qe6,Nc5,Qe7,Rc3', 'Qe1+,Kh2,Qxc3', 'https://lichess.org/training/fCFJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fch2g', 'Rapid', 'onerouslawyer', 1991, 'stefanobalestra', 1928, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Ne2,d5,a3,Be7,Nf4,c6,Bd3,Nbd7,O-O,dxc4,Bxc4,Nb6,Bb3,Nbd5,Nfxd5,exd5,Bc2,Bd6,f3,Qc7,h3,Nh5,e4,dxe4,fxe4,Bh2+,Kf2,Qg3+,Ke2,Qxg2+,Kd3,Qxh3+,Be3,Nf4+,Kd2,Bg4,Qe1,Ng2,Qf2,Nxe3,Qxe3,Qxe3+,Kxe3,Bc7,e5,Be6,Rh1,g6,Ne4,Bd5', 'Nf6+,Kg7,Rxh7#', 'https://lichess.org/training/Fch2g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FCIml', 'Rapid', 'King8E', 1994, 'Zachary_Mac', 1939, 'e4,c5,Nf3,Nc6,c3,Nf6,Qc2,d6,h3,g6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,d3,Bg7,Bg5,O-O,Nbd2,Nd7,d4,cxd4,Nxd4,Ne5,f4,Nd7,Rad1,Re8,Nxc6,bxc6,Nc4,Rb8,Nxd6', 'Qb6+,Kh1,exd6', 'https://lichess.org/training/FCIml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FcJoI', 'Blitz', 'GM E-Shaposhnikov', 2662, 'AlexJonhs', 2648, 'Nf3,d5,d4,e6,c4,Nf6,Nc3,c6,g3,Be7,Bg2,O-O,O-O,Nbd7,Nd2,b6,e4,dxe4,Ndxe4,Bb7,Bf4,Nxe4,Nxe4,Rc8,Rc1,c5,Nf6+,Bxf6,Bxb7,Rc7,Bxc7,Qxc7,Bg2,Bxd4,b3,f5,Qe2,e5,Bh1,Re8,Bd5+,Kh8,Rcd1,Nf6,Kh1,e4,b4,Qd7,bxc5,bxc5,Rc1,Nxd5,cxd5,Qxd5,Qc4,Qd6,Rfd1,e3,f3,h6,Kg2,g5,Rb1,Re7,Qd3,Qd5,Qb3,Qe5,Qb8+,Qxb8,Rxb8+,Kg7,Re1,e2,Rc8,f4,g4,h5,gxh5,Bc3,Kf2,Bxe1+,Kxe1,g4,Rxc5,gxf3,Rc1,Kh6,Kf2,Re3,a4,Kxh5,a5,Kh4,Rg1,Kh3,Ke1,Kxh2,Rg8,Rd3,Kf2,Rd1', 'Rh8#', 'https://lichess.org/training/FcJoI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FcjwE', 'Rapid', 'kapfel', 2283, 'IsoR1968', 2273, 'e4,d6,f4,Nf6,Nf3,Nxe4,c3,g6', 'Qa4+,Nd7,Qxe4', 'https://lichess.org/training/FcjwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fcKQ2', 'Blitz', 'Rodiloran', 1792, 'ChrisUnter', 1784, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,g6,f4,Bh6,Bc4,d6,O-O,Nf6,Nxc6,bxc6,e5,Ng4,h3,d5,Bb3,Ba6,Rf3,Qh4,hxg4,Qxg4,Nc3,Bc8,Be3,Qh5,Rf1,Bg4,Qd4,Bf8,Ba4,Bd7,Bxc6,Bxc6,Nxd5,Rd8,Nxc7+,Ke7,Qc5+,Kd7,Qxa7,Bc5,Rad1+,Kc8,Rxd8+,Rxd8,Qxc5,Kxc7,Qa7+,Kc8,Qxf7,Qg4,Rf2', 'Rd1+,Kh2,Qh4#', 'https://lichess.org/training/fcKQ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fcl4w', 'Rapid', 'bjcba123', 1872, 'rajaonn', 1936, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bb4,O-O,d6,h3,O-O,Re1,Be6,b3,Bxc3,dxc3,Ne7,Bd3,Ng6,Ng5,h6,Nxe6,fxe6,c4,Qe8,Rf1,Nh4,Be3,Qg6,g3,Nh5,Kh1,Nxg3+', 'fxg3,Rxf1+,Qxf1,Qxg3,Bf2', 'https://lichess.org/training/Fcl4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fCmg5', 'Rapid', 'Yonblind', 1701, 'KasparovChris', 1827, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Nc3,Nf6,Bg5,Be7,O-O,O-O,Re1,Nd7,Bxe7,Qxe7,f4,Qh4,Qf3,Nb6,e5,d5,b3,Rfe8,Rad1,Re7,Ne2,Rae8,Ng3,f6', 'Nf5,Qxe1+,Rxe1', 'https://lichess.org/training/fCmg5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FcNdZ', 'Bullet', 'KnightedOdiaka', 1513, 'privatemg', 1514, 'd4,d5,e3,Nf6,Nf3,Bf5,Bd3,Bg6,h3,c6,Bd2,Nbd7,O-O,e6,Qe2,Bd6,c3,Ne4,Bc1,Rc8,Nbd2,Nxd2,Nxd2,c5,Nf3,Bh5,Re1,e5,dxe5,Nxe5,g4,Nxf3+,Qxf3,Bg6,Bxg6,hxg6,Kg2,O-O,Qxd5,Rc6,c4,Qh4,Bd2,Kh7,Bc3,f5,Qf3,fxg4,Qxg4', 'Qxf2+,Kh1,Qh2#', 'https://lichess.org/training/FcNdZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FcRsc', 'Blitz', 'choastheory7', 2142, 'redtommy', 1982, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,g4,Bg6,Nge2,c5,h4,h5,Nf4,Bh7,Be3,Nc6,gxh5,Qb6,dxc5,Bxc5,Bxc5,Qxc5,Qe2,a6,Nd3,Qb6,O-O-O,Rc8,Rg1,d4,Ne4,Bxe4,Qxe4,Rxh5,Rxg7,Nge7,Be2,Rh8,Qf4,Nf5,Rdg1,Rxh4,Qg5,Qc7', 'Rg8+,Kd7,Nc5#', 'https://lichess.org/training/FcRsc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fcRvV', 'Blitz', 'Dule_Igor', 2260, 'IM purzelbaumer', 2492, 'e4,d5,exd5,Nf6,Nf3,Bg4,Be2,Qxd5,d4,Nc6,c3,e5,O-O,exd4,Nxd4,Bxe2,Qxe2+,Be7,Nxc6,Qxc6,Re1,O-O,Be3,Rfe8,Nd2,Bc5,Qf3,Bxe3,fxe3,Ne4,Nxe4,Rxe4,Rad1,Rae8,Kf2,g6,Rd4,Kg7,Rxe4,Rxe4,Rd1,h5,Rd4,Re6,Qxc6,Rxc6,g3,Kf6,h4,Ke6,Kf3,a5,g4,hxg4+,Kxg4,Rb6,b3,Rc6,c4,Rb6,h5,gxh5+,Kxh5,Rb4,Kg5,a4,Re4+,Kd7,Kf6,axb3,axb3,Rxb3,Kxf7,Rb6,Rd4+,Rd6,Re4,c5,Re7+,Kc6,Re6', 'Rxe6,Kxe6,b5', 'https://lichess.org/training/fcRvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fcSno', 'Rapid', 'zechariah_2007-lotfy', 2203, 'Arafat72arafat', 2263, 'c4,e6,g3,d5,Bg2,c6,cxd5,exd5,d4,Nf6,Nc3,Be7,Nf3,h6,O-O,Bf5,Bf4,Nbd7,h3,O-O,Be5,Nxe5,Nxe5,Bd6,Nf3,Re8,e3,Qd7,Kh2,Ne4,Nh4,Bh7,Nxe4,Bxe4,Bf3,Qe7,Ng2,Qf6,Nf4,Bxf3,Qxf3,g5,Qg4,Kh7,Nh5,Qg6,Qf3,Re6,Kg1,f5,g4,Rf8,Qg2,fxg4,hxg4,Qe4,Rae1,Qd3,Ng3,Bxg3,Qxg3,Rf7,Rb1,Qe4,a4,Rf3,Qg2,Ref6,b4,Rxf2', 'Qxe4+,dxe4,Rxf2', 'https://lichess.org/training/fcSno');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fcUnu', 'Blitz', 'sa3d_Jab', 2214, 'Bad_Player23', 1896, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nf3,Nxe4,Nc3,Nxc3,bxc3,Bc5,d4,Bd6,Bd3,O-O,O-O,Be7,d5,Nb8,c4,d6,h3,Na6,Be3,Nc5,Bxc5,dxc5,Rb1,Bd6,Re1,Qf6,Qe2,b6,Qe4,g6,Qe3,Bf5,Bxf5,Qxf5,Qe4,Qf6,Qg4,Rfe8,Qg5,Qc3,Qh6,Rxe1+,Rxe1,Qg7,Qg5,Qc3,Qh6,Bf8,Qf4,Qxc2,Ne5,Qf5,Qxf5,gxf5,Nc6,Bg7,Re7,Rc8,Nxa7,Ra8,Nb5,Rxa2,Nxc7,Bf6,Re8+,Kg7,g3,Ra1+,Kg2,Rc1,Nb5,Rxc4,Nd6,Rd4,Rc8,Rxd5,Rc6,Be5', 'Nxf5+,Kh8,Rc8+,Rd8,Rxd8#', 'https://lichess.org/training/fcUnu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FcVrS', 'Classical', 'sadecebeyaz', 1726, 'elchin7761', 1731, 'e4,e6,d4,d5,e5,c5,dxc5,Bxc5,Nc3,Ne7,Bb5+,Nbc6,Nge2,a6,Bxc6+,Nxc6,Na4,Ba7,Ng3,Qa5+,Nc3,Nxe5,O-O,O-O,Qh5,Qc7,Bf4,f6,Rfe1,Qb6,Be3,Qb4,Bxa7,Rxa7,Rab1,Qg4', 'Rxe5,Qxh5,Rxh5', 'https://lichess.org/training/FcVrS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FcvUD', 'Classical', 'Matt971', 1922, 'taytayboy', 1764, 'd4,d5,c4,dxc4,e4,b5,a4,c6,axb5,cxb5,Nc3,Qb6,Nd5,Qc6,Bf4,Na6,Rxa6,Bxa6,Nc7+,Kd7,d5,Qb7,Qg4+,e6,dxe6+,fxe6,Qd1+,Kc8,Qd4,Rb8,Nxe6,Bb4+,Kd1,Qd7,Qxd7+,Kxd7,Bxb8,Kxe6,Bxa7,Nf6,f3,Rd8+,Kc1,Bd2+,Kc2,Bf4,Nh3,Rd2+,Kc1,Bh6,g4', 'Rxh2+,g5,Rxh1', 'https://lichess.org/training/FcvUD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fCwXh', 'Rapid', 'vidamala', 1660, 'AmirCatic', 1665, 'd4,e6,e3,d5,c3,c5,a3,cxd4,cxd4,Nc6,b4,Nge7,Bb2,Ng6,Nf3,Bd6,Bd3,b6,Bxg6,hxg6,O-O,Bxh2+,Nxh2,Qh4,f3,Qxh2+,Kf2,Ba6,Rg1,Qh4+,g3,Qh2+,Rg2,Qh3,Nc3,Ne7', 'Qa4+,Kf8,Qxa6', 'https://lichess.org/training/fCwXh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FCxes', 'Rapid', 'killercapybara1231', 2226, 'MMC97', 2166, 'e4,c5,Nc3,g6,f4,Bg7,Nf3,Nc6,Bc4,e6,d3,Nge7,O-O,O-O,Bb3,Nd4,Nxd4,Bxd4+,Kh1,a6,f5,exf5,exf5,Nxf5,Rxf5,gxf5,Qh5,Bxc3,bxc3,Qf6,Bg5,Qg6,Qh4,d6,Re1,Be6,Re3,Bxb3,axb3,Rfe8,Be7,Rxe7,Qxe7,f4,Rf3,Qe6,Qg5+,Kh8,Qxf4,Qe1+,Rf1,Qxc3,Qxf7,Rg8,Qf6+,Qxf6,Rxf6,Rg6,Rf7,Rg7,Rf8+,Rg8,Rf6,Re8,Kg1,Re2,Rf2,Rxf2,Kxf2,d5,Kf3,Kg7,Kf4,Kf6,g4,h6,h4,b5,g5+,hxg5+,hxg5+,Ke6,g6,a5,g7', 'Kf7,g8=R,Kxg8', 'https://lichess.org/training/FCxes');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FCXmm', 'Rapid', 'Egor1', 1791, 'CM MarklarMarklar', 1929, 'd4,Nf6,Bg5,Ne4,Bf4,d5,Nd2,Nxd2,Qxd2,e6,e3,c5,c4,Nc6,Nf3,cxd4,Nxd4', 'Bb4,Qxb4,Nxb4', 'https://lichess.org/training/FCXmm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fCXut', 'Rapid', 'pb1980', 1667, 'TCFB', 1970, 'e4,c6,f3,d5,e5,c5,c3,Nc6,f4,Bf5,Bb5,e6,Bxc6+,bxc6,d4,cxd4,cxd4,Bb4+,Bd2,Qa5,a3,Bxd2+,Qxd2,Qxd2+,Nxd2,Ne7,h3,O-O,g4,Bd3,Ngf3,Ba6,h4,Rab8,b4,Ng6,f5,exf5,gxf5,Nf4,h5,f6,e6,Ng2+,Kf2,Nf4,h6,g6,fxg6,hxg6,Rag1,Kh7,Nh4,Rg8,Nb3,Nxe6,Nc5,Nxc5,dxc5,Bc8,Re1,Kxh6,Nf5+,Kg5,Nh6,Rg7,Reg1+,Kf4,Rh4+,Ke5', 'Re1#', 'https://lichess.org/training/fCXut');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FcyrG', 'Rapid', 'farzadkhafan', 1756, 'kangoo123', 1764, 'd4,e6,c4,d5,Nc3,Nf6,e3,Bb4,Nf3,Ne4,Qc2,c6,Be2,a6,O-O,b5,a3,Bxc3,bxc3,bxc4,Ne5,O-O,f3,Nf6,e4,Bb7,Bg5,h6,Bh4,g5,Bg3,Nh5,exd5,Nxg3,hxg3,Nd7,dxc6,Nxe5,cxb7,Nxf3+,Bxf3,Rb8,Kf2,f5,Rh1,Rf6,Qa4,g4,Bc6,Qd6,Rhe1,f4,Kg1,f3,gxf3,Qxg3+,Kh1,Rf5,Qc2', 'Rh5+,Qh2,Rxh2#', 'https://lichess.org/training/FcyrG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fd48h', 'Rapid', 'crisgaspar', 1738, 'ocrad', 1649, 'e4,c5,Bc4,Nc6,Nf3,e6,c3,Nf6,Qe2,a6,a4,Qc7,d3,Be7,Bg5,h6,e5,Nd5,Bxd5,exd5,Be3,Nxe5,d4,Nxf3+,Qxf3,cxd4,Bxd4,O-O,O-O,Qd6,Nd2,Bg5,Nb3,Qe6,Rae1,Qg6,Qxd5,d6,Qf3,Bd7,Na1,Bxa4,b3,Bc6,Qg3,b5,b4,Rae8,Rxe8,Rxe8,Nb3,h5,f4,h4', 'Qxg5,Qxg5,fxg5', 'https://lichess.org/training/fd48h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fD4x1', 'Rapid', 'TorkoNudu', 1612, 'chewes99', 1695, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,d6,h3,Bd7,Re1,Be7,c3,O-O,d4,exd4,cxd4,Nb8,Bg5,h6,Bxf6,Bxf6,Nc3,c5,e5,dxe5,dxe5,Be7,Bd5,Nc6,a3,Ra7,Rc1,c4,Qd2,Bg5,Nxg5,Qxg5,Bxc6,Bxc6,f3,Bxf3', 'Qxg5,hxg5,gxf3', 'https://lichess.org/training/fD4x1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FD8aa', 'Rapid', 'Deutche_Welle', 1912, 'biala', 2255, 'd4,Nf6,Nf3,g6,c3,Bg7,h3,O-O,Bf4,d6,e3,Nbd7,Bc4,b6,O-O,Bb7,Nbd2,Ne4,Nxe4,Bxe4,Qe2,e5,dxe5,dxe5,Bg3,Qe7,Bd3', 'Bxd3,Qxd3,e4,Qd1,exf3', 'https://lichess.org/training/FD8aa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FD8QC', 'Blitz', 'andrey_chess', 1717, 'milena28', 1933, 'e4,c5,Nf3,e6,Bc4,Nc6,O-O,g6,d4,cxd4,Nxd4,Bg7,Be3,Nge7,Nc3,O-O,Qd2,d5,Nxc6,bxc6,exd5,exd5,Bb3,d4,Rad1,c5,Bg5,Ba6,Bxe7,Qxe7,Rfe1,dxc3,bxc3,Qf6,Qd7,Rad8,Qa4,Rxd1,Rxd1,Rd8,Re1,Qxc3,Re8+,Rxe8', 'Qxe8+,Bf8,Qxf7+,Kh8,Qxf8#', 'https://lichess.org/training/FD8QC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fD8vO', 'Classical', 'juandeleon', 1836, 'maxvirga', 1941, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Nbd7,Qf3,Be7,O-O-O,Qc7,Bd3,b6,Rhe1,Bb7,Nd5,exd5,Nf5,dxe4,Bxe4,Bxe4,Rxe4,Nxe4,Qxe4,O-O,Nxe7+,Kh8,Rd3,Nc5', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/fD8vO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fD8YP', 'Rapid', 'AndresCutro', 1998, 'juwwealla', 2012, 'd4,d5,Bf4,Nf6,e3,e6,c3,h6,Bd3,Bd6,Bg3,O-O,Nd2,Re8,Ngf3,Nbd7,Ne5,Bxe5,dxe5,Nh7,f4,Nc5,Bc2,f5,exf6,Nxf6,O-O,c6,Qf3,Qb6,Rab1,Nce4,Nxe4,dxe4,Bxe4,Rf8,Kh1,Bd7,Bc2,Be8,e4,Bh5,Qd3,Rad8,Qc4,Bf7,e5,Ng4,Qe4,g6,h3,Ne3,Bf2,Nxf1,Bxb6,Ng3+,Kh2,Nxe4,Bxd8,Nd2,Be7,Re8,Rd1,Nc4,Bf6,Nxb2,Rb1,Nc4,Rxb7,Ne3,Bb3,Nd5,Rxa7,Nxc3,Rc7,Nd5,Rxc6,Nxf4,a4,Nd5,a5,Nxf6,exf6,e5,Bxf7+,Kxf7,a6,e4,a7,e3,Ra6,e2,a8=Q', 'Rxa8,Rxa8,e1=Q', 'https://lichess.org/training/fD8YP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fD93o', 'Rapid', 'Loapitbull', 1778, 'opalestino', 1852, 'd4,Nf6,Nc3,d5,g3,c6,h4,e6,Bh3,c5,a3,cxd4,Qxd4,Nc6,Qd3,h6,Nf3,e5,Qb5,Bxh3,Rxh3,Qd7,Rh1,e4,Nh2,a6,Qa4,Rc8,Bd2,Bc5,b4,Bd4,e3,Be5,Rb1,O-O,Qb3,d4,Ne2,d3,cxd3,exd3,Nf4,Bxf4,gxf4,Rcd8,Nf3,Rfe8,Bc3,Ne4,Bd4,Nxd4,Nxd4,Qg4,Qxd3,Rxd4,Qxd4,Qf3,Rf1,Nxf2,Rxf2', 'Rxe3+,Qxe3,Qxe3+', 'https://lichess.org/training/fD93o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fda64', 'Rapid', 'capapretaSS', 1868, 'W49', 1835, 'e4,e6,d4,d5,exd5,exd5,c3,Bf5,Nf3,Nd7,h3,Bd6,Bd3,Bxd3,Qxd3,Qe7+,Be3,Ngf6,Nbd2,c6,O-O-O,O-O-O,Rhe1,Qf8,Kb1,h6,c4,dxc4,Qxc4,Bb4,a3,Bxd2,Rxd2,Nb6,Qb3,Nfd5,Rc1,f5,Rdc2,Qd6,Ne5,Kb8,Nf7,Qd7,Nxh8,Rxh8,Bd2,Rc8,Bb4,Nxb4,Qxb4,Ka8,Re2,f4,f3,g5,Rce1,Nd5,Qc5,Ne3,Rxe3,fxe3,Rxe3,Rd8,Ka1,b6,Qc3,Qxd4,Qxc6+,Kb8,Re7,Qd1+,Ka2,Qd5+,Qxd5,Rxd5,Re6,h5,g4,hxg4,hxg4,Kc7,Rf6,a6,Kb3,Re5,Kc3,a5,Rf5,Rxf5', 'gxf5,Kd6,Kd4', 'https://lichess.org/training/Fda64');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FdalR', 'Rapid', 'gladiantuns', 1628, 'UncleVinny', 1765, 'd4,d5,Bf4,Nf6,Nf3,e6,c3,c5,h3,Nc6,e3,cxd4,exd4,Be7,Bd3,h6,Nbd2,O-O,Qc2,Bd6,Ne5,Bc7,Nxc6,bxc6,Bxc7,Qxc7,g4,Qf4,O-O-O,Qxf2,g5,hxg5,Rhf1,Qg3,Rg1,Qh4,Nf3,Qf4+,Nd2,a5,Rdf1,Qd6,Rxg5,Qe7,Rfg1,g6,Bxg6,Kh8,Bh7,Nxh7', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/FdalR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fDbcM', 'Rapid', 'I_AM_NASTRADAMUS', 2020, 'AleksYlta', 1865, 'd4,Nf6,Nf3,d5,Bg5,e6,e3,h6,Bh4,g5,Bg3,Ne4,Be5,Rg8,Bd3,Bg7,Nbd2,f5,Bxg7,Rxg7,Ne5,Nc6,Qh5+,Kf8,Ndf3,Ne7,Qxh6,Qe8,Bxe4,dxe4,Nxg5,Ng8,Qh4,Qe7,f4,Qb4+,Kf2,Qd2+,Kf1,Qxc2,Nh7+,Ke8,Qh5+,Kd8,Qh4+,Ne7,g3,Qxb2,Re1,b6,Qf6,Ba6+,Kg1,Rxh7', 'Qf8#', 'https://lichess.org/training/fDbcM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FdCR8', 'Blitz', 'CM LegendaryOM', 2348, 'Blowf1sh', 2339, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,Be7,Bxf6,Bxf6,Nd5,O-O,c3,Bg5,Nc2,Ne7,Nce3,Bxe3,Nxe3,Be6,Bd3,d5,O-O,d4,Nc4,f6,f4,b5,Na3,dxc3,bxc3,Qb6+,Kh1,Rad8,Qe2,Qc5,Nc2,exf4,Nd4,Bc4,Bxc4+,Qxc4,Qxc4+,bxc4,Ne6,Ng6,Nxf8,Kxf8,Rfd1,Re8,Rd4,Ne5,Rb1,g5,Rb6,Kg7,a4,a5,Kg1,Kg6,Rb5,g4,Rxa5,f3,Rxe5,fxe5,Rxc4,fxg2,Kxg2,Kg5,Kg3,Rd8,a5,Rd3+,Kg2,Kf4,a6', 'Rd2+,Kf1,Kf3', 'https://lichess.org/training/FdCR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDDFz', 'Rapid', 'mikefrancis1996', 1875, 'AnticipatingAsshole', 1890, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,Bb4,e3,Ne4,Bd2,Bxc3,Bxc3,Nxc3,bxc3,O-O,Bd3,Nc6,O-O,Qf6,Rb1,dxc4,Bxc4,e5,d5,Na5,Be2,Bg4,e4,Rfd8,c4,c6,c5,cxd5,exd5,e4,Ne1,Bf5,Rb5,b6,c6,Nxc6,Nc2,Ne7,Ne3,Rac8,Qb3,Rc3,Qb4,Bg6', 'Ng4,Qd6,Qxc3', 'https://lichess.org/training/FDDFz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDEmr', 'Rapid', 'didi_ulang', 1609, 'donesledestructeur', 1647, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,Nxc6,Bb5,Bd7,Nf3,a6,Bc4,b5,Bd3,e5,Be4,Rc8,O-O,Nxe4,Nxe4,Be7,d4,Bg4,d5,Bxf3,Qxf3,Qxd5', 'Nf6+,Bxf6,Qxd5', 'https://lichess.org/training/FDEmr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fdEwi', 'Classical', 'stevy', 2058, 'FernandaFumaca', 1990, 'c4,e5,Nc3,Nf6,g3,Nc6,Bg2,Bc5,e3,O-O,Nge2,Re8,O-O,e4,a3,a5,Qc2,Qe7,Nd5,Nxd5,cxd5,Nb8,Bxe4,Qxe4,Qxc5,Na6,Qxa5,b6,Qb5,Bb7,Nc3,Qe7,e4,Nc5,f3,Ba6,Qb4,Bxf1,Kxf1,Qf6,Ke2,Qh6,h4,Qg6,d4,Ra4', 'Nxa4,Nxe4,fxe4,Qxe4+,Kd2', 'https://lichess.org/training/fdEwi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fdfd1', 'Blitz', 'FM Kuq-e-zi', 2384, 'HalimKrasniqi', 2060, 'd4,d5,Bf4,e6,Nf3,Nf6,e3,Bd6,Be2,b6,O-O,Bb7,Nbd2,O-O,Rc1,c5,c3,Qc7,b3,Bxf4,exf4,Qxf4,g3,Qc7,Bd3,Nbd7,Re1,h6,Qe2,Rfe8,Bb5,a6,Bd3,b5,Ne5,c4,Bb1,Rad8,f4,Qd6,b4,Qe7,Kg2,Nxe5,fxe5,Nd7,Rf1,f5,exf6,Nxf6,Bg6,Rf8,Rce1,Bc8,Nf3,Ng4,h3,Nf6,Ne5,Qd6,Rf2,Bb7,Qe3,Ne4,Rf7,a5,Qxh6,gxh6', 'Bh7+,Kh8,Ng6#', 'https://lichess.org/training/fdfd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDFni', 'Blitz', 'mr_fantasy', 1688, 'KimSF', 1686, 'e4,e5,f4,exf4,Nf3,Nf6,Bc4,Nc6,O-O,Bc5+,d4,Bb6,Kh1,d6,e5,dxe5,Qe2,O-O,dxe5,Nd7,Bxf4,Re8,Nbd2,Nd4,Nxd4,Bxd4,c3,Bxe5,Bxe5,Nxe5,Rae1,Be6,Qxe5,Qxd2,Bxe6,Rxe6,Qg3,Rae8,Rxe6,Rxe6,Qxc7,Qe2', 'Qxf7+,Kh8,Qf8#', 'https://lichess.org/training/FDFni');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fdGap', 'Blitz', 'dorostorum', 1659, 'alborz1385', 1658, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qf6,Qc7,Qg6,Nc3,Nge7,Bd2,d5,Bd3,Qxg2,O-O-O,O-O,Rdg1,Qf3,exd5,Nxd5,Nxd5,Qxd5,Bh6,Bg4,h3,gxh6,Rxg4+,Kh8,Rhg1,Rac8,Rg7,e4,Qf4,exd3,Qf6,d2+,Kd1,Qh5+,f3,Qe5,Rxh7+,Kxh7', 'Rg7+,Kh8,Qxh6#', 'https://lichess.org/training/fdGap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDgrO', 'Rapid', 'ZaNziBAr_TiGeR', 2001, 'yustaaaaa', 2010, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,O-O,Ba6,d3,Nf6,Bg5,Be7,Nc3,O-O,Qd2,Qc7,e5,Nd5,Nxd5,cxd5,Bxe7,Rfe8,Bg5,d4,Rfe1,Bb7,Qf4,Qc6,Qg3,Kh8,Re4,Qb5,Rh4,Qxb2,Re1,Qxc2,Qh3,Qxd3,Rf4,Bd5,Rxf7,Rab8,Qg4,Qg6,Rxd7,h6,h4,Bxf3,gxf3,hxg5,hxg5,Rf8,Kg2,Kg8,Rh1,Rf7,Qh4', 'Rxd7,Qh8+,Kf7,Qxb8,Qxg5+', 'https://lichess.org/training/FDgrO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fDh8c', 'Blitz', 'Tanmay2504', 1721, 'netrose65', 1737, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be2,O-O,O-O,Bg4,h3,Bxf3,Bxf3,c6,Be3,Nbd7,Qd2,e5,d5,cxd5,Nxd5,Nxd5,exd5,f5,Bh6,e4,Bxg7,Kxg7,Be2,Qf6,c4,Ne5,f3,exf3,Bxf3,Nxf3+,Rxf3,Rac8,Rc1,Rfe8,b3,Qe5,Rff1,Qe3+,Qxe3,Rxe3,Rf2,Rce8,Kh2,Kf6,c5,Re2,Rxe2,Rxe2,a4,dxc5,Rxc5,Rd2,Rc7,Rxd5,Rxb7,a5,Rxh7,Rd3,Rb7,g5,Rb5,g4,Rxa5', 'g3+,Kg1,Rd1#', 'https://lichess.org/training/fDh8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FdHcL', 'Blitz', 'Deriban', 2028, 'adnooo61', 2071, 'd4,e6,c4,d5,Nc3,Nf6,Bf4,Bd6,Bg5,Nbd7,Nf3,c6,e3,Qc7,h3,h6,Bh4,g5,Bg3,Bxg3,fxg3,Qxg3+,Ke2,dxc4,a4,Nd5,Ne4,Qc7,Kf2,f5,Ng3,b5,Nd2,Nxe3,Qh5+,Ke7,Qg6,Qf4+,Kg1,Qxd4,Nf3,Qf6,Qh5,Ne5,Nxe5,Qxe5,Re1,f4,Qf3,Bd7,Nh5,Qd4,Kh2,Raf8,Be2,Qxb2,axb5,cxb5,Rb1,Qe5,Rhe1,Rf7,Bd1,Rc8,Bc2,Bc6,Qe2,Bxg2,Bg6,Rff8,Qxg2,Nxg2,Rxe5,Ne3,Rexb5,c3,Rb7+,Kd6,Rxa7,Ke5,Rb5+,Kd4,Rd7+,Kc4,Ra5,Rfd8', 'Bd3+,Kb4,Rb5+,Ka3,Ra7#', 'https://lichess.org/training/FdHcL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDiDq', 'Blitz', 'brann27', 1767, 'M_anosbouno3', 1787, 'b3,e5,c4,Nc6,Bb2,Bc5,d3,d6,Nf3,Bg4,e3,Qf6,Be2,Bb4+,Nbd2,Nge7,O-O,O-O,Ne4,Qg6,Nd4,Bxe2,Nxe2,f5,N4c3,Qh6,Ng3,f4,exf4,Rxf4,Nd5,Nxd5,cxd5,Nd4,a3,Bc5,b4,Bb6,a4,a6,a5,Ba7,Rc1,Raf8,Rxc7,Rxf2,Rxf2,Rxf2,Rc8+,Kf7,Rc7+,Ke8,Rxb7,Ne2+,Nxe2,Rxe2+,Rxa7', 'Qe3+,Kh1,Re1+,Qxe1,Qxe1#', 'https://lichess.org/training/FDiDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FditO', 'Blitz', 'ITN123', 1638, 'Cosaaa', 1646, 'd4,e5,dxe5,Bc5,Nc3,d6,exd6,Ne7,Nf3,Bxd6,e4,O-O,Bc4,Be6,Bxe6,fxe6,O-O,Nbc6,Nd4,Nxd4,Qxd4,Nc6,Qe3,b6,Rd1,Nb4,Qe2,Qh4,h3,Rad8,a3,Nc6,Qc4,Qxf2+,Kh1,Qxc2,Qxc6', 'Qxd1+,Nxd1,Rf1#', 'https://lichess.org/training/FditO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDJC0', 'Rapid', 'rezo2015', 1744, 'feketesegg', 1844, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e6,Nc3,Qc7,Be3,Nf6,Bd3,d5,Qf3,e5,Nf5,dxe4,Nxe4,Nd5,O-O,Nxe3,fxe3,g6,Nfd6+,Bxd6,Nxd6+,Qxd6,Qxf7+,Kd8,Rad1,Bd7,Be4,Qe7,Qf3,Nc6,Bxc6,bxc6,Qxc6,Rc8,Rxd7+,Qxd7,Qf6+,Kc7,Qxe5+,Kb7,Qe4+,Qc6,Rf7+,Ka8,Qe7,Qc5', 'Qb7#', 'https://lichess.org/training/FDJC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDjDP', 'Rapid', 'c52019', 1966, 'acristalia', 1732, 'g4,d5,Bg2,c5,d4,Bxg4,dxc5,e5,Qxd5,Qxd5,Bxd5,Nc6,Be3,O-O-O,Nc3,Nf6,Bxf7,Bf5,Bb3,Nd4,Bxd4,exd4,Na4,Bd7,Nf3,Bc6,O-O,h5,Ne5,Bb5,Nf7,Be7,Nxh8,Rxh8,Rfe1,Ne4,f3,Nxc5,Nxc5,Bxc5,Rad1,Re8,Bf7,Re5,f4,Rf5,Be6+,Bd7,Bxf5,Bxf5,c3,dxc3+,e3,cxb2,Rd5,b1=Q', 'Rxc5+,Kb8,Rxb1', 'https://lichess.org/training/FDjDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fDjoV', 'Classical', 'Vadim061092', 1823, 'Bardam0', 1840, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,Bd2,Qc7,h3,Bf5,Bc4,e6,O-O,Nbd7,Re1,Be7,Qc1,Nb6,Bb3,O-O-O,Be3,Nfd5,Nxd5,Nxd5,c4,Nxe3,fxe3,g5,Bc2,Bxh3,Ne5,Bd6,gxh3,Bxe5,dxe5,Qxe5,Kg2,h5,Rd1,h4,Rxd8+,Rxd8,Qe1,f5,Rd1,Rxd1,Bxd1,Qxb2+,Qe2,Qxe2+,Bxe2,Kd7,c5,b6,cxb6,axb6,Kf3,Kd6,e4,b5,Ke3,b4,Kd4,c5+,Ke3,Ke5,Bd3', 'f4+,Kf3,Kd4', 'https://lichess.org/training/fDjoV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDjsI', 'Blitz', 'Wooferino', 1559, 'Abantu', 1555, 'e4,e5,Nc3,Nc6,Nf3,Nf6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,e5,Nd5,Nxd5,cxd5,Qxd5,Bxf2+,Kxf2,Rb8,Bc4,O-O,Re1,Bb7,Qd3,d6,exd6,cxd6,Kg1,Qb6+,Be3,Qxb2,Bxa7,Rbe8,Rxe8', 'Qxa1+,Qf1,Qxf1+,Kxf1,Rxe8', 'https://lichess.org/training/FDjsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fdkBD', 'Rapid', 'obodavic', 1729, 'yazan95', 1689, 'd4,Nf6,Bf4,d5,e3,Bf5,c4,e6,h3,Bd6,Bxd6,Qxd6,cxd5,Nxd5,Bd3', 'Qb4+,Qd2,Bxd3', 'https://lichess.org/training/fdkBD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fdkcO', 'Blitz', 'Mitri4', 1754, 'Pere27', 1738, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Nc6,Nc3,Nge7,Be2,g6,O-O,Bg7,Be3,O-O,Qd2,a6,Nxc6,dxc6,Bd3,b5,a3,Bb7,Bh6,Qc7,Bxg7,Kxg7,Rfe1,c5,e5,c4,Be4,Rad8,Qf4,Nf5,g4,Nd4,Rad1,Bxe4,Nxe4,Qb7,Qf6+,Kg8,c3,Nc6,Qh4,Rxd1', 'Nf6+,Kg7,Qxh7#', 'https://lichess.org/training/fdkcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fDkob', 'Rapid', 'Cifaretto', 1663, 'kulik123', 1735, 'e4,c5,Bc4,Nc6,Qf3,Ne5,Qc3,Nxc4,Qxc4,e5,Nc3,Nf6,Nf3,d6,Nd5,Be7,Ng5,Nxd5,Nxf7,Kxf7,Qxd5+,Ke8,O-O,Bd7,f4,exf4,Rxf4,Rf8,d3,Rxf4,Bxf4,Qc8', 'Qg8+,Bf8,Bxd6,Be6,Qxf8+', 'https://lichess.org/training/fDkob');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FdKtX', 'Rapid', 'unerriar', 1845, 'RiteshBinani', 1768, 'd4,c6,c4,d5,Nc3,Bf5,Nf3,e6,e3,Nf6,Bd3,Bg4,h3,Bh5,cxd5,exd5,e4,Bb4,e5,Ne4,Qb3,a5,Nd2,Nxf2,Kxf2,Qh4+,g3', 'Qxd4+,Kg2,Qxd3', 'https://lichess.org/training/FdKtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fDky9', 'Rapid', 'Mourrtee', 1612, 'AlcaTorda', 1629, 'e4,e5,Nc3,Nf6,d3,Be7,Bg5,O-O,h4,h6,f4,hxg5,fxg5,Nh7,Nf3,d6,Nd5,Nd7,Qd2,f5,d4,fxe4,Bc4,exf3', 'Nxe7+,Kh8,Ng6#', 'https://lichess.org/training/fDky9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FdMyS', 'Classical', 'Savelij', 1630, 'devist', 1636, 'Nf3,d5,g3,Nc6,d4,f6,Nc3,e6,Bg2,Bd6,O-O,Nge7,e4,dxe4,Nxe4,e5,dxe5,Nxe5,Nxe5,fxe5,Nc3,O-O,Bg5,Qe8,Bxe7,Qxe7,Nd5,Qg5,h4,Qh6,a3,c6,Nc3,Bd7,Qd3,Rad8,Be4,Bc5', 'Qc4+,Kh8,Qxc5', 'https://lichess.org/training/FdMyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FdMzx', 'Rapid', 'NatalieHope', 1644, 'krzysiekstasilas', 1740, 'e4,d5,exd5,Nf6,h3,Nxd5,Nf3,Nc6,a3,e5,Bc4,Be6,Ba2,Bc5,O-O,O-O,d3,Nf6,Bg5,Bxa2,Rxa2,Nd4,Nxe5,Re8,Nf3,Qd6,c3,Qd5,Ra1', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/FdMzx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fDOfO', 'Rapid', 'MugiwarAlex', 1923, 'Spartanweb', 1936, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bg5,Bg7,Qd2,O-O,O-O-O,Nc6,Bh6,Ng4,Bxg7,Kxg7,f3,Nge5,h4,h5,Kb1,Bd7,Be2,a6,g4,hxg4,fxg4,Nxg4,Bxg4,Bxg4,Rdg1,Bh5,Nf5+,Kf6,Re1,Ne5,Nd5+,Ke6,Nfxe7,Nf3,Qd3,Nxe1,Qh3+,Ke5,Rxe1,Qa5,c3,Rac8,Qf5+,gxf5', 'exf5+,Be2,Rxe2#', 'https://lichess.org/training/fDOfO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FdOlL', 'Classical', 'CANHAS', 1843, 'BattleAxiom', 1861, 'e4,c5,Nf3,e6,c4,Nc6,Nc3,Qc7,Be2,Nf6,O-O,Be7,d4,cxd4,Nxd4,O-O,Be3,a6,Qc2,Ne5,Bf4,Nf3+,Bxf3,Qxf4,Nde2,Qc7,b3,Bd6,Kh1,Be5,Rad1,b5,cxb5,axb5,Rc1,Qa5,a4,bxa4,bxa4,Bb7,Rfd1,Rfc8,Qb3,Qa7,Rc2,Bc6,Ra2,Qxf2,Nd4,Qe3,Re2,Qh6,g3,Bxg3,Nxc6,dxc6,e5,Nd5,Bxd5,cxd5,Ra1,Qh5,Rg2,Bxe5,Rag1,Rxc3,Qb7,Rxa4', 'Rxg7+,Bxg7,Qb8+,Rc8,Qxc8#', 'https://lichess.org/training/FdOlL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDPVZ', 'Blitz', 'ApexAttack', 2183, 'Gruebler100', 2221, 'e4,e6,d4,d5,Nd2,Nc6,c3,e5,exd5,Qxd5,dxe5,Nxe5,Ngf3,Nf6,Nxe5,Qxe5+,Be2,Bd6,Nf3,Qh5,Nd4,Qg6,O-O,Bh3,Bf3,O-O-O,Qb3,c6,Qa4,Kc7,Nxc6,Ng4,Qa5+,Kd7,Qxa7,Bxh2+,Kh1,Bxg2+,Bxg2,Qh5,Qxb7+', 'Bc7+,Bh3,Qxh3+,Kg1,Qh2#', 'https://lichess.org/training/FDPVZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fdshD', 'Blitz', 'vitalik_kyiv', 1578, 'Abrhess', 1542, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,c5,dxc5,Qa5,Nf3,Ne4,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,Qxc3+,Nd2,Nc6,e3,Nb4,Rc1,Qa3,Ra1,d5,cxd5,Nxd5,Bc4,Be6,Bb5+,Bd7,Bxd7+,Kxd7,Qg4+,e6,Qd4,Rac8,O-O,Ke7,Rab1,Rc7,Nc4,Rhc8,Nd6,Qxc5,Nxc8+,Rxc8,Qxc5+,Rxc5,Rxb7+,Kf6,Rxa7,Rc2,g3,Nc3,a4,Ne2+,Kg2,Nc3,a5,Ra2,a6,Ne4,Ra8,Nc5,a7,Ne4,Kh3,h5,f3', 'Ng5+,Kh4,Rxh2#', 'https://lichess.org/training/fdshD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDstU', 'Rapid', 'kombinezonemate', 1870, 'sarendah', 1778, 'e4,e5,f4,Bd6,f5,Qh4+,Ke2,Qxe4+,Kf2,Qxf5+,Qf3,Bc5+,Ke1,Qxc2,Nc3,c6', 'Bd3,Qxd3,Qxd3', 'https://lichess.org/training/FDstU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fDTIg', 'Blitz', 'judith00', 1807, 'Skandinavos', 1862, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Bf5,Bc4,Nb6,Bxf7+,Kxf7,Qf3,Qc8,g4,e6,gxf5,exf5,Nge2,Bb4,Bf4,c6,O-O-O,Re8,Rhg1,Qe6,Be5,g6,Qh3,h5,Nf4,Qc4,Qxh5,gxh5', 'Rg7+,Kf8,Ng6#', 'https://lichess.org/training/fDTIg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fdUuI', 'Rapid', 'ziutore', 1838, 'Feodor5', 1894, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Nf6,O-O,e6,c3,h6,h3,Bh5,Ne5,Bxe2,Qxe2,Bd6,Bf4,O-O,Bg3,Nbd7,Nd2,Qc7,Nb3,Ne4,Bh2,Rfe8,f3,f6,Nxd7', 'Bxh2+,Kh1,Ng3+', 'https://lichess.org/training/fdUuI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDVCb', 'Blitz', 'virgiliodiniz', 1961, 'keshavkaurav', 1952, 'e4,c6,f4,d5,d3,dxe4,Nc3,exd3,Bxd3,Nf6,Nf3,Bg4,O-O,e6,Be3,Bd6,Qe2,O-O,Rad1,Nd5,Nxd5,exd5,Qf2,Re8,Bd4,Nd7,Qg3,c5,Bxg7,Kxg7,Qxg4+,Kh8,Ng5,Qf6,Bxh7,Rg8,Qxd7,Bxf4,Bxg8,Rxg8,Nxf7+,Kh7,Rxd5', 'Be3+,Rf2,Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/FDVCb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FdvQv', 'Rapid', 'FredBruel', 1875, 'sebastrole', 1686, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,c3,d6,h3,h6,O-O,Bd7,Re1,a6,Ba4,b5,Bb3,Be6,d4,Bxb3,Qxb3,exd4,e5,dxe5,Nxe5,Nxe5,Rxe5+,Be7,Bf4,g5,Bh2,O-O,Na3,Bd6,Ree1,dxc3,Qxc3,Re8,Rxe8+,Nxe8,Nc2,f5,Bxd6,Qxd6,Ne3,f4,Rd1,Qe6,Ng4,h5,Re1,Qxa2,Re7,hxg4,hxg4,Qc4,Qe5,Qc1+,Kh2,Qc6,Qxg5+,Kf8,Rh7,Qf6,Qc5+,Kg8,Rh5,Ng7', 'Qd5+,Qe6,Qxa8+', 'https://lichess.org/training/FdvQv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FdvSW', 'Classical', 'arnav4438gupta', 1768, 'LightOfHeaven_LoH', 1780, 'e4,c6,d4,d5,exd5,cxd5,Bb5+,Nc6,Nf3,a6,Bxc6+,bxc6,h3,e6,O-O,c5,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/FdvSW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FDWiB', 'Rapid', 'Anonymoussss', 1851, 'think-fast', 1717, 'e4,g6,d4,Bg7,f4,c5,c3,cxd4,cxd4,Qa5+,Nc3,Qb6,Nf3,Nc6,e5,d6,Bb5,dxe5,fxe5,Bd7,Bxc6,Bxc6,O-O,e6,Rb1,Ne7,Re1,Nd5,a3', 'Nxc3,bxc3,Qxb1', 'https://lichess.org/training/FDWiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fdXQA', 'Blitz', 'Sergey311', 1830, 'matrix-i_m', 1884, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Bc4,Nc6,Nc3,a6,O-O,Nf6,Bg5,Be7,Nf5,Bxf5,exf5,O-O,Kh1,Ne5,Bd3,Nfd7,Bxe7,Qxe7,f4,Nxd3,Qxd3,Nf6,Rae1,Qd7,Nd5,Nxd5,Qxd5,c6,Qd4,Rfe8,f6,g6,f5,Rxe1,Rxe1,Qxf5,Qxd6,h6,c3,Rf8,Rd1,Qh5', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/fdXQA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fdxXX', 'Rapid', 'tetrapentam', 1683, 'Blacxmaster', 1765, 'e4,c5,Nf3,Nc6,Bc4,Nf6,d3,g6,Nc3,Bg7,Be3,d6,a3,O-O,Qd2,e5,O-O,Ng4,Nd5,Nxe3,Qxe3,Nd4,Nxd4,cxd4,Qg3,Be6,f4,f5,exf5,Rxf5,fxe5,Rxf1+,Rxf1,dxe5,Qf3,Kh8,b4,Rc8,Rf2,a6,Nb6', 'Qxb6,Bxe6,Qxe6', 'https://lichess.org/training/fdxXX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fDZUr', 'Rapid', 'suwb79', 1821, 'melnax', 1806, 'd4,d5,c4,dxc4,Nc3,a6,a4,e5,e3,Be6,Nf3,exd4,exd4,Bb4,Be2,Bxc3+,bxc3,Nf6,Ba3,Nc6,O-O,Na5,Ng5,Qd5,Nxe6,Qxe6,Re1,O-O-O,Bf3,Qd7,Be7,Rde8,Bxf6,Rxe1+,Qxe1,gxf6,Qe4,Qe6', 'Bg4,Qxg4,Qxg4+', 'https://lichess.org/training/fDZUr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fe29U', 'Blitz', 'FM LastOfTheMohicans_89', 2513, 'Argonavtik', 2388, 'd4,g6,c4,Bg7,Nc3,d6,e4,Nc6,Be3,e5,d5,Nce7,f3,f5,g4,fxg4,fxg4,Nf6,h3,O-O,Qd2,a6,Bd3,Bd7,b4,b5,c5,a5,c6,axb4,Nxb5,Bc8,Qxb4,Kh8,Ne2,Nfxd5,exd5,e4,Bxe4,Bxa1,Nbc3,Ba6,Bd4+,Kg8,h4,Bxe2,Kxe2,Qb8', 'Qxb8,Raxb8,Rxa1', 'https://lichess.org/training/fe29U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fE2Zj', 'Blitz', 'pumarosv', 1779, 'anatoly57', 1775, 'e4,e5,Nf3,d6,Bc4,Be7,c3,Nf6,O-O,O-O,d3,c6,a3,b5,Ba2,a5,Re1,Be6,b3,a4,Nbd2,axb3,Bxb3,Bxb3,Qxb3,Na6,Nf1,Nc5,Qc2,Re8,Ng3,Na4,d4,exd4,cxd4,Rc8,e5,dxe5,dxe5,Nd5,Nf5,Bc5,Qe4,Nac3,Qg4,g6,Bb2,Qb6,N3d4,Kh8,Bxc3,Nxc3,Nd6,Bxd4,Nxf7+,Kg7,Qf3,Rf8', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/fE2Zj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fe30G', 'Rapid', 'bluthaenfling', 1949, 'Jagielo', 1809, 'd4,g6,c4,Bg7,Nc3,d6,e4,c6,Be3,Nf6,Bd3,a6,a4,Qc7,h3,O-O,Nf3,e5,a5,Nbd7,O-O,exd4,Bxd4,Nc5,b4,Nxd3,Qxd3,Be6,e5,dxe5,Bxe5,Qd8,Qxd8,Raxd8,c5,Bc4,Rfd1,Rfe8,Rxd8,Rxd8,Rd1,Re8,Nd4,Rxe5,Nf3,Re8,Rc1,Nd5,Na4,Bb5,Nb6,Nxb6,cxb6,Bf8,Rd1,Bxb4,Rd7,Bxa5,Rxb7,c5,Ng5,c4,Nxf7,Re1+,Kh2,c3,Nh6+,Kf8', 'Rf7+,Ke8,b7', 'https://lichess.org/training/fe30G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fe3fD', 'Blitz', 'IM Aminmolaei', 2551, 'IM Bugzilla', 2622, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Nf6,e3,Nc6,Nc3,a6,Bd3,Bg4,f3,Bh5,Nge2,e6,h4,Bg6,g4,Bxd3,Qxd3,Bd6,Kf2,Bxf4,Nxf4,Qd6,g5,Nd7,h5,O-O-O,a3,Nb6,b4,e5,dxe5,Nxe5,Qf5+,Kb8,Rhd1,g6,Qh3,Qc6,Rac1,Nec4,Rd4,Rhe8,Ncxd5,Nxd5,Nxd5,Rxd5,Rcxc4,Qd6,Qg3,Rxd4', 'Rxd4,Qxg3+,Kxg3', 'https://lichess.org/training/Fe3fD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fe3Yw', 'Bullet', 'advaitha-vedantha', 1841, 'Czessplejer', 1846, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nf3,Bc5,Bc4,O-O,d3,d5,Bxd5,Nxd5,exd5,Re8+,Kf1,Qxd5,Nc3,Qh5,Ne4,Rxe4,dxe4,Bg4,Bf4,Nd4,Rg1,Nxf3,gxf3,Bxf3,Qd5,Qh3+,Ke1,Bb6,Rd1,h6,Rd3,Re8,Rg3,Rxe4+,Kd2', 'Qf1,Kc3,Rxf4,Qe5,Ba5+,Qxa5,Qe1+', 'https://lichess.org/training/Fe3Yw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fe3Zy', 'Rapid', 'Nnegi', 1703, 'rollercoaster209', 1602, 'e4,e5,Qh5,Nc6,Nf3,g6,Qg4,d6,Qg3,Nf6,Bd3,Nh5,Qg5,Qxg5,Nxg5,Be7,h4,Bd7,Bc4,Bxg5,hxg5,Nd4,Na3,Be6,d3,Bxc4,dxc4,Ne6,Be3,O-O-O,O-O-O,Kb8,Nb5,b6,g3,a6,Na3,Nhg7,f4,Nc5,Bxc5,dxc5,fxe5,Rhe8,Rxh7,Rxd1+,Kxd1,Ne6,Rxf7,Nxg5,Rf4,Rxe5,Rf8+,Kb7,Rg8,Re6,e5,Nf3,c3,Nxe5,b4,cxb4,cxb4,Ng4,b5,a5,Nc2,Ne5,Nd4', 'Rd6,Kc2,Rxd4', 'https://lichess.org/training/Fe3Zy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FE4mC', 'Rapid', 'AWelker', 1790, 'Aegis1', 1768, 'd4,d5,Bf4,c5,e3,Qb6,Nd2,Qxb2,Rb1,Qxa2,Bb5+,Nc6,Bxc6+,bxc6,c3,Nf6,Ngf3,Ba6', 'Ra1,Qb2,Rxa6', 'https://lichess.org/training/FE4mC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fe4MN', 'Rapid', 'Sergey63b', 1638, 'ThomasSchwager', 1803, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Be7,O-O,b5,Bd3,Nbd7,Nc6,Qb6,Nxe7,Kxe7,Bxf6+,Nxf6,h3,Re8,Kh1,Bb7,f4,Kf8,e5,dxe5,fxe5,Qe3,exf6', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/fe4MN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fe57a', 'Rapid', 'cralchess', 1890, 'axel000', 2030, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,e6,Bg5,Be7,Nc3,a6,Be2,Qc7,O-O,Nc6,Nxc6,bxc6,Be3,Rb8,Rb1,O-O,Kh1,d5,Qd3,Rd8,exd5,exd5,Rfd1', 'd4,Bf2,dxc3', 'https://lichess.org/training/Fe57a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fE7qj', 'Classical', 'dardemoshtarak', 1786, 'antanassep', 1897, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Nf6,d3,h6,c3,Bg4,Nbd2,b5,Bb3,Na5,Bc2,Be7,a4,b4,cxb4,Nc6,Bb3,Nd4,Bc4,d5,exd5,Nxd5,h3,Bxf3,Nxf3,Nxb4,Nxd4,exd4,Re1,O-O,b3,a5,Ba3,Re8,Qf3,Bf6,Bxb4,axb4,Re4,Ra5,Rae1,Rxe4,Rxe4,Qd7,Qe2,Rc5,Re8+,Kh7,Qe4+,g6,Rf8,Rxc4,dxc4,d3,Qe8', 'Qxe8,Rxe8,d2', 'https://lichess.org/training/fE7qj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FE7sO', 'Rapid', 'Marouan92', 1656, 'Buyukfirar', 1687, 'd4,d5,c4,dxc4,Nc3,c5,d5,g6,e4,Bg7,Nf3,Nf6,Bxc4,O-O,Ne5,a6,d6,exd6,Nf3,d5,exd5,Re8+,Be3,Ng4,O-O,Nxe3,fxe3,Rxe3,Na4,Bg4,Nxc5,Bxf3,Rxf3,Rxf3,Qxf3,Bd4+,Kf1,Bxc5,d6,Bxd6,Qxf7+,Kh8,Qxb7,Nd7,Qd5,Nb6', 'Qd4+,Be5,Qxe5+,Qf6+,Qxf6#', 'https://lichess.org/training/FE7sO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fe8k4', 'Rapid', 'DonQui99', 1606, 'Aleksei1968', 1637, 'd4,c6,c4,a6,Nf3,b5,e3,e6,a4,Bb4+,Bd2,Bxd2+,Nbxd2,Qa5,Be2,bxc4,Bxc4,d5,Be2,Ne7,O-O,O-O,Qc2,Nd7,Rfb1,Rb8,Nb3,Qb4,Nc5,Nxc5,Qxc5,Qxc5,dxc5,a5,Nd4,Bd7,b3,e5,Nc2,Bf5,Rb2,d4,exd4,exd4,Nxd4,Rb4,Nxf5,Nxf5,h3,Nd4,Bc4,Rfb8,Rab1,Ne6,g3,Nxc5,Rd1,g6,Rd6', 'Rxc4,bxc4,Rxb2', 'https://lichess.org/training/Fe8k4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fE9By', 'Rapid', 'Ticco', 1869, 'ChessIsRasist', 2060, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,Nh3,e6,Nf4,c5,h4,Nc6,h5,Be4,f3,cxd4,fxe4,dxe4,Bb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/fE9By');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fe9hZ', 'Rapid', 'AnItHiNgElSe', 1731, 'arsen612', 1737, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d4,a6,Ba4,b5,Bb3,Ng6,Bd5,h6,Nxe5,Ncxe5,Bxa8,Nc4,Bd5,Nb6,Bb3,Qe7,O-O,d6,Re1,Qh4,Nd2,Nf4,Nf3,Qg4,Bxf4,Qxf4,c3,g5,e5,d5,c4,bxc4,Ba4+,Kd8,Nd2,Bb4,a3,Bxd2,Re2,Ba5,Qc2,Qg4,Bc6,Qxd4,Rd1,Qc5,Bxd5,Ke7,b4,Qb5,Bf3,Bxb4,axb4,Qxb4,Re4,Bd7,Rb1,Qc5,Qb2,Bf5,e6,Bxe4,Bxe4,Rd8,exf7,Kxf7,h3,Qd4,Qe2,Re8', 'Bg6+,Kxg6,Qxe8+', 'https://lichess.org/training/fe9hZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FEAGG', 'Rapid', 'Abdulrahman777', 1899, 'Maryanto01aryo', 1941, 'e4,g6,Nf3,Bg7,d4,c6,Be2,e6,O-O,d5,e5,Nd7,c3,b6,a4,Bb7,c4,dxc4,Bxc4,Ne7,Be2,Nd5,Nc3,O-O,h4,h5,Nxd5,cxd5,Ng5,Rc8,Qd3,Bh6,Nxe6,fxe6,Bxh6,Rf5,Qg3,Kh7,Bg5,Qf8,f4,Qb4,Bd3,Qxd4+,Kh2,Rf7,Bf6,Rg8,Rad1,Qxa4,Rde1,Nxf6,exf6,Rxf6,f5,exf5,Re7+,Rg7,Rxg7+,Kxg7,Bxf5,Bc8,Qc7+,Bd7,Qxd7+', 'Qxd7,Bxd7,Rxf1', 'https://lichess.org/training/FEAGG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FEciv', 'Blitz', 'shelyenoc', 1688, 'Aleksovski1980', 1685, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,Nc3,Bd6,d3,h6,Nge4,O-O,Nxd6,cxd6,O-O,a6,a4,b6,Ne2,Nxe2+,Qxe2,Bb7,Bd2,Re8,a5,b5,Bb3,Rc8,Bb4,Qd7,f3,Nh5,Qf2,Nf4,Bd2,Nxd5,Qg3,Nf4,Bxf4,exf4,Qxf4,Rf8,Rfe1,Qc6,Re2,Qc5+,Kh1,d5,Rae1,b4,Re7,Ba8,g4,Qf2,g5,hxg5,Qxg5,Qxf3+,Kg1,d4,Rf1,Qh1+,Kf2,Qxh2+,Ke1,Rxc2,Bxf7+,Kh8,Bb3,Rxb2,Rxf8+,Kh7,Bg8+,Kh8,Bd5+,Kh7,Bxa8', 'Rb1+,Qc1,Rxc1#', 'https://lichess.org/training/FEciv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fED8r', 'Rapid', 'nmartynenko', 1996, 'netflix12', 2103, 'e4,c5,Nc3,g6,g3,Bg7,Bg2,Nf6,d3,O-O,Nge2,Nc6,O-O,d6,f4,Bg4,h3,Bd7,g4,Rc8,Ng3,Nd4,Nce2,Nxe2+,Qxe2,Ne8,g5,Nc7,h4,Bc6,h5,Bd4+,Kh1,d5,e5,c4,c3,Bb6,d4,f6,f5,fxe5,Qxe5,Qd6,hxg6,hxg6,f6,Qxe5,dxe5,exf6,gxf6,Ne6,Bh6,Rf7,Bh3,Re8,Ne2,d4+,Kh2,d3,Nf4,Nxf4,Bxf4,Rh7,Rae1,Bd7,Rf3,Be6,Be3,Kf7,Bxb6,axb6,Rfe3,Rd8,Kg2,b5,Bxe6+,Kxe6,Kg3,Rdh8,Kg4,Rh5,b3,Rf5,bxc4,bxc4,Rb1,Rb8,Rb6+,Kf7,e6+,Kxf6,e7+,Kf7,Rxb7,Re8,Rc7,Rd5,Re1,d2,Rd1', 'Rxe7,Rxd2,Rxd2', 'https://lichess.org/training/fED8r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FedLM', 'Rapid', 'IplayE4Nf3', 2210, 'Chessdankos28', 2063, 'e4,c5,Nf3,d6,c3,Nf6,Be2,Nc6,d4,e5,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,f3,Kc7,O-O,Be7,Be3,Be6,Na3,a6,Nc4,Nd7,a4,f6,a5,Rad8,Rfd1,Nb8,Nb6,Rxd1+,Rxd1,Rd8,Nd5+,Bxd5,exd5,Bd6,b4,Nd7,Rb1,g6,Kf2,f5,Ke1,cxb4,cxb4,Be7,b5,axb5,Rxb5,f4,Bf2,Rc8,Kd2,Ra8,g3,Rxa5,Rxa5,Bb4+,Kd3,Bxa5,Kc4,Bb6,Be1,Bg1,gxf4,exf4,h3,Kd6,Bb4+,Bc5,Bd2,g5,h4,h6,hxg5,hxg5,Bc3,b6,Bb2,Ke7,Kb5,Kd6,Kc4,Ke7,Bd3,Kf7,Bf5,Ke7,Be6,Kd6,Kd3,Ne5+,Ke4,Nc4,Bc3,b5,Kd3,Ne5+,Ke4,Nd7,Kf5,b4,Bb2,b3,Kxg5,Nb6,Kxf4,Nxd5+,Bxd5', 'Kxd5,Kf5,Bd4', 'https://lichess.org/training/FedLM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fef7Z', 'Blitz', 'Amgalantugul', 2383, 'FM erka1118', 2453, 'c4,c5,Nc3,b6,d3,Bb7,Nf3,Nf6,g3,d5,cxd5,Nxd5,Bg2,g6,O-O,Bg7,Bd2,O-O,a3,Nc6,Re1,Rc8,Rc1,Qd7,h4,Rfd8,Qa4,a6,Nxd5,Qxd5,b4,cxb4,axb4,Nd4,Rxc8,Rxc8,Qd1,Nc2,Rf1,Qd6,Qb1,Nd4,Nxd4,Bxd4,Bxb7,Qxg3+,Kh1,Qxh4+,Kg1,Rc7,Bg2,Rd7,e3,Be5,Rd1,Rd6,d4,Rf6,f4,Rxf4,exf4', 'Bxd4+,Be3,Bxe3+,Kf1,Qf2#', 'https://lichess.org/training/Fef7Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FEfKi', 'Classical', 'Denis85', 1833, 'soyelcejasxd', 1813, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Nf6,Bg5,Be7,O-O,O-O,h3,h6,Bh4,c6,Ne5,Qb6,b3,Qxd4', 'Bh7+,Kxh7,Qxd4', 'https://lichess.org/training/FEfKi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FeFpM', 'Rapid', 'NasrunAyub', 2015, 'ZerosChess', 2308, 'e4,c5,Nf3,d6,d3,e5,Nbd2,Nf6,g3,Be6,b3,Nc6,Bg2,b5,O-O,Be7,a4,b4,h3,h6,Kh2,a5,Qe2,Rc8,Nc4,O-O,Be3,Nd4,Nxd4,cxd4,Bd2,Nd7,f4,Bxc4,dxc4,d3,cxd3,exf4,Bxf4,Bf6,Rad1,Qb6,Be3,Bd4,Bxd4,Qxd4,Qf2,Qc3,Qa7,Nc5,Qxa5,Qxb3,Rb1,Qxd3,Rxb4,Qe2,Rbb1,Rfe8,Qa7,Qxc4,Rbc1,Qe6,e5,Re7,Qa5,Ree8,exd6,Qxd6,Rfd1,Qf8,Rf1', 'Nb3,Rxc8,Nxa5', 'https://lichess.org/training/FeFpM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fEfrp', 'Rapid', 'qer_q90', 1610, 'ancodej', 1633, 'd4,c5,c3,Nc6,Nf3,d5,Nbd2,Nf6,g3,e6,Bg2,Bd6,O-O,O-O,Nh4,b6,e4,Ba6,Re1,dxe4,Nxe4,Re8,Nxd6,Qxd6,Bf4,Qd8,Qa4,Nxd4,cxd4,Bd3,Bxa8,Qxa8,Re3,Be4,dxc5,bxc5,Rae1,Bc6,Qc4,Ng4,R3e2,Rc8,Qa6,h6,f3,Nf6,Rf2,g5,Bxg5,hxg5,Ng2,Rb8,b3,Bxf3,Ne3,Bb7,Qd6,Ne4,Qe5,Nxf2,Qxg5+,Kf8,Kxf2,Rd8,Kf1,Ba6+,Kg1,Rd2,Qh6+,Ke7', 'Nf5+,Kd7,Qxd2+', 'https://lichess.org/training/fEfrp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('feG9b', 'Rapid', 'Asease1971', 1696, 'shmelev_and', 1721, 'd4,f5,c4,Nf6,Nc3,g6,Bf4,Bg7,Nb5,Na6,e3,c6,Nc3,O-O,Qb3,Kh8,c5,Nc7,Nf3,Ncd5,Nxd5,Nxd5,Bg3,f4,exf4,Nxf4,h4,d5,Bxf4,Rxf4,h5,Bg4,hxg6,h6,Qe3', 'Re4,O-O-O,Rxe3', 'https://lichess.org/training/feG9b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FeGoD', 'Rapid', 'aals10', 1746, 'Horse-chan', 1766, 'e4,c5,Nf3,d6,Bc4,Nf6,O-O,e6,e5,dxe5,Nxe5,Nbd7,f4,Nxe5,fxe5,Qd4+,Kh1,Qxe5,d3,Bd6,Bf4,Qxb2,Bxd6,Qd4,Bb5+,Bd7,Bxd7+,Nxd7,Bxc5,Nxc5,c3,Qxd3,Nd2,Rd8,Rf2,Ne4', 'Qa4+,b5,Qxe4', 'https://lichess.org/training/FeGoD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('feiq1', 'Blitz', 'Sasha-s-Donbassa', 1806, 'gonzalonoriega', 1852, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nf3,Nc6,O-O,Bg4,Nxc3,Ne5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,Nf6,Bg5,Be7,Rad1,h6,Bxf6,gxf6,Rfe1,Qd7,Qe3,c6,f4,Qc7,Rc1,Qb6,Qxb6,axb6,e5,fxe5,fxe5,d5,a3,Kd7,Ne2,Rhg8,Nf4,Rg5,e6+,fxe6,Nxe6,Bc5+,Kh1,Rg6,Nxc5+,bxc5,Rxc5,Rag8,Rc2,h5,Rce2,R8g7,b4,h4,Re8,Rxg2,a4,Rg1+,Rxg1,Rxg1+,Kxg1,Kxe8,Kg2,Kd7,Kh3,d4,Kxh4,Kd6,Kg4,Ke5,Kf3,Kd5,h4,Kc4,h5,d3,Ke3', 'Kc3,h6,d2,h7,d1=Q', 'https://lichess.org/training/feiq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fej3v', 'Rapid', 'Enghave', 1763, 'Uknown78', 1755, 'd4,d5,c4,e6,Bf4,Nf6,Nc3,Be7,e3,O-O,cxd5,exd5,Bd3,c6,Nge2,Nbd7,Qc2,h6,h3,Re8,O-O,Nf8,Rae1,Bd6,Bxd6,Qxd6,a3,Ne6,Ng3,Ng5,Bf5,Bxf5,Qxf5,Nge4,Ngxe4,Nxe4,Nxe4,Rxe4,f3', 'g6,fxe4,gxf5', 'https://lichess.org/training/Fej3v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fej83', 'Classical', 'Egu0511', 1868, 'h1c2k3', 1963, 'd4,Nf6,Nf3,e6,Bf4,b6,e3,Bb7,Nbd2,Be7,h3,Nc6,Bh2,d6,g3,e5,dxe5,Nxe5,Bg2,Nfd7,O-O,O-O,b3,f6,Re1,Qe8,g4,f5', 'Nxe5,Bxg2,Nxd7,Bxh3,Nxf8', 'https://lichess.org/training/fej83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FEk5X', 'Rapid', 'NM evandrorsilva', 2097, 'AguaGelada', 1828, 'd4,c6,c4,d6,Nc3,Nf6,e4,Nbd7,f4,Qa5,Bd2,Qc7,Nf3,e5,fxe5,dxe5,d5,Bc5,h3,O-O,Qc2,Re8,g4,Nf8,Bd3,Bd7,O-O-O,b5,dxc6,Bxc6,cxb5,Bb7,Kb1,Rac8,Rc1,Ne6,Qb3,Nd4,Nxd4,Bxd4,Nd5,Bxd5,Rxc7,Bxb3,Rxc8,Bxa2+,Kxa2,Rxc8,Kb3,Nd7,Bb4,Nc5+,Bxc5,Rxc5,Bc4,Kf8,Ra1,Rc7,Bd5,g6,Bc6,Ke7,Ra6,Bb6,Kc4,Kd6,b4,f5,gxf5,gxf5,exf5,e4,Ra3,Ke5,Rg3,Kxf5,Kd5,e3,Rg2,Kf4,Kd6,Rc8', 'Rg4+,Kf5,Bd7+', 'https://lichess.org/training/FEk5X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FEkAf', 'Blitz', 'AlMel_Irkutsk', 2109, 'NM verlager', 2165, 'e4,f5,exf5,Nh6,Bd3,d5,b3,Nxf5,Nf3,Nc6,Bb2,Qd6,Nc3,e5,Nb5,Qe7,O-O,e4,Re1,Be6,Nfd4,Ncxd4,Nxd4,Nxd4,Bxd4,exd3,cxd3,O-O-O,Qc2,Qf7,Bxa7,Bd6,Bd4,Rhf8,Rac1,Qf4,Rxe6,Qxd4,Rxd6', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/FEkAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FEKC3', 'Rapid', 'Stathoukos', 1889, 'gugabom', 1874, 'Nf3,d5,d4,c5,e3,Nc6,Bb5,Bg4,Bxc6+,bxc6,O-O,cxd4,exd4,Nf6,c3,e6,Bg5,h6,Bxf6,Qxf6', 'Qa4,Rc8,Ne5', 'https://lichess.org/training/FEKC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('feLo7', 'Blitz', 'vivaanfirst', 2211, 'GM almostadams', 2627, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,e3,d5,Nf3,Nbd7,cxd5,exd5,Bd3,c6,Qc2,Re8,O-O-O,Qe7,Rde1,a5,a3,Bxc3,Bxc3,Ne4,Nd2,f5,f3,Nxc3,Qxc3,Nf6,e4,fxe4,fxe4,dxe4,Nxe4,Nxe4,Rxe4,Qg5+,Kb1,Bf5,Rxe8+,Rxe8,g3,Bxd3+,Qxd3,Qd5,Rf1,a4,Qf5', 'Re1+,Rxe1,Qxf5+', 'https://lichess.org/training/feLo7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fElvW', 'Rapid', 'flinkston', 2208, 'NM self_service', 2562, 'Nf3,Nf6,g3,d5,Bg2,Bg4,O-O,Nbd7,h3,Bh5,d3,e6,Qe1,Be7,e4,O-O,g4,Bg6,Nh4,c6,f4,Ne8,Nf3,f6,exd5,exd5,Kh1,Nc7,Nbd2,Re8,Qf2,Bc5,Qg3,Bd6,Nb3,a5,a4,Na6,Nbd4,Nb4,Nh4,Bf7,Nhf5,Bf8,c3,Na6,g5,Kh8,h4,Nac5,Bd2,Ne6,Rae1,Ndc5,b3,g6,Nxe6,Nxe6,Ne3,f5,h5,Bd6,h6,Qc7,Nc2,Nc5,Nd4,Ne6,Nc2,b5,c4,bxc4,dxc4,Nc5,Bc3+,Kg8,cxd5,Ne4,Bxe4,Rxe4,Rxe4,fxe4,Bb2,Bb4,Nxb4,axb4,Qe3,c5,Be5,Qd7,Qxe4,Qh3+,Kg1,Qg3+,Kh1,Qh3+,Kg1,Rd8,Rd1', 'Qg4+,Kf2,Qxd1', 'https://lichess.org/training/fElvW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Felzy', 'Rapid', 'chessguy9333', 1883, 'carlosbethoven', 1911, 'c4,g6,d4,Bg7,e4,b6,g3,Bb7,Bg2,f5,d5,fxe4,Bxe4,Nf6,Bg2,O-O,Ne2,e6,Nbc3,exd5,Nxd5,Nxd5', 'Bxd5+,Bxd5,Qxd5+,Kh8,Qxa8', 'https://lichess.org/training/Felzy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fEmB8', 'Classical', 'Dimrud2601', 2223, 'Genaes', 2262, 'd4,Nf6,c4,d6,Nf3,Nbd7,Nc3,e5,e4,Be7,d5,O-O,Bd3,h6,O-O,Nh7,Be3,Bg5,Nxg5,Nxg5,Qd2,Re8,b4,Nf8,c5,a6,Rac1,Ng6,Na4,Qf6,cxd6,cxd6,Nb6,Nf4,Bxf4,exf4,Nxa8,f3,g3,Bh3,Nc7,Bg2,h4,Re5,Qf4', 'Nh3+,Kh2,Nxf4', 'https://lichess.org/training/fEmB8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FEmw5', 'Blitz', 'machinovish', 2360, 'IM Schachtrainer-Schuh', 2474, 'Nf3,Nf6,b3,g6,Bb2,Bg7,e3,d5,Be2,O-O,O-O,c5,d3,Nc6,Ne5,Bd7,Bf3,Rc8,Nxd7,Qxd7,Nd2,e5,g3,Rfd8,Bg2,b6,a4,Qc7,Qe2,Nb4,Nf3,Ne8,h4,h6,Bh3,Rb8,Nh2,Nc6,Rae1,Nd6,h5,g5,f3,Re8,Qg2,Rbd8,f4,exf4,Bxg7,Kxg7,gxf4,d4,fxg5,Rxe3,gxh6+,Kxh6,Rf6+,Kh7,Rxe3,dxe3,Qg5,Rg8', 'Rh6#', 'https://lichess.org/training/FEmw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FEnDD', 'Blitz', 'ecriscuo', 1696, 'GiveMeCompliments', 1725, 'd4,d5,c3,e6,Bf4,g6,e3,Bg7,h4,Nf6,Nd2,Nbd7,Be2,c5,h5,O-O,hxg6,fxg6,g4,Ne4,Nxe4,dxe4,g5,cxd4,exd4,b6,Qc2,Bb7,Bg4,Rxf4,Ne2,Rf8,O-O-O,Qxg5+,Kb1,Qxg4,Rh2,Qg5,Rdh1,h5,Rh3,e5,Rg3,Qf6,Rhg1,Kh7,Rg5,Bh6,R5g3,Rg8,Qa4,Bc6,Qc4,exd4,Nxd4,Bb7,Qc7,Bc8,Nb5,Kh8,Nd6,Nc5,Nf7+,Kh7', 'Ng5+,Kh8,Qh7#', 'https://lichess.org/training/FEnDD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FenQZ', 'Rapid', 'liri', 1786, 'DEEPAKSINGH797', 1853, 'e4,e5,Bc4,Nf6,Qf3,Nc6,c3,Be7,d3,O-O,Qg3,Nh5,Qg4,Nf6,Qg3,d5,exd5,Na5,Bh6,Nh5,Qxe5,Nxc4,dxc4,Re8,Qxh5,gxh6,Ne2,Bg5,O-O,Re4,Nd4', 'Bg4,Qxg4,Rxg4', 'https://lichess.org/training/FenQZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fEolY', 'Rapid', 'Oasac', 1788, 'CA7', 2064, 'd4,d5,c4,c6,Nc3,e6,Bf4,Nf6,Qc2,dxc4,e3,b5,a4,b4,Nce2,Ba6,Ng3,c3,Bxa6,Nxa6,N1e2,Nd5,O-O,b3,Qxb3,Rb8,Qc2,cxb2,Rab1,Nxf4,Nxf4,Bd6,Qxc6+,Qd7,Qxa6,Bxf4,exf4,O-O,Rfd1,Rb4,Qe2,Qxa4,Rd2,Rfb8,Rdxb2', 'Rxb2,Rxb2,Qa1+', 'https://lichess.org/training/fEolY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fePap', 'Rapid', 'Tracht', 1915, 'Egor-3', 1967, 'b3,d5,Bb2,Nc6,e3,Qd6,Nf3,Bf5,a3,e5,Bb5,f6,Nh4,Be6,Qh5+,Bf7,Qd1,O-O-O,Nc3,a6,Be2,d4,Ne4,Qd5,Bf3,Qd7,Ng3,Nge7,Bg4,Be6,Bxe6,Qxe6,O-O,dxe3,fxe3,g5,Nhf5,Nd5,Qe2,Bc5,b4,Ba7,c4,Nb6,b5,axb5,cxb5,Na5,Ne4,Nbc4,Bc3,Nb3,Rab1,Nxa3,Rxb3,Qxb3,Nxf6,Qxb5,Qf3,Rhf8,Nxh7,Rf7,Nxg5,Rf6', 'Ne7+,Kb8,Qxf6', 'https://lichess.org/training/fePap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fEr1T', 'Blitz', 'Nitrogen7', 1883, 'gaetanodisandonato', 1923, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,f3,e6,Be3,a6,Qd2,Be7,g4,O-O,h4,Bd7,h5,Ne5,Be2,b5,a3,Rc8,g5,Ne8,f4,Nc4,Bxc4,Rxc4,g6,fxg6,hxg6,h6,f5,e5,Bxh6,exd4,Nd5,Nf6,Bxg7,Re8,Nxf6+,Bxf6', 'Rh8+,Kxg7,Qh6#', 'https://lichess.org/training/fEr1T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fErru', 'Rapid', 'KingArthur16', 1893, 'wilce', 1891, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Nge7,d4,exd4,cxd4,Bb6,Bg5,O-O,Nc3,Kh8,d5,Ne5,Nxe5,dxe5,Qh5,f6,Bh4,a6,Rad1,Qd6,Rd3,Bd7,Rg3,Be8,Qg4,Ng6,Rf3,Rd8,Ne2,Rd7,Ng3,Rdf7,Nf5,Qb4,b3,Bd7,d6,Bxf5,exf5,Nxh4,Qxh4,Rd7', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/fErru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FEskE', 'Rapid', 'Gometa', 1661, 'bn2007', 1751, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,d6,Bxb4,Nxb4,Qa4+,Nc6,Nc3,Bd7,Qb3,O-O,O-O,Na5,Qb4,Nxc4,Qxc4,Bg4,Nd2,a6,Qd3,Re8,f3,Bh5,Ne2,Bg6,Ng3,c5,Rfe1,cxd4,Qxd4,Nd7,Qxd6,Re6,Qd5,Nb6,Qxb7,Qxd2,Rad1,Qxb2', 'Qxa8+,Nxa8,Rd8+,Re8,Rxe8#', 'https://lichess.org/training/FEskE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fEtZp', 'Rapid', 'Drodrodroulad', 1714, 'MahendraBW', 1899, 'e4,e5,Ne2,Nf6,Nbc3,b6,g3,Bb7,Bg2,Bc5,O-O,O-O,Kh1,Nc6,Na4,Bd6,d4,exd4,Nxd4,Nxd4,Qxd4,Re8,Nc3,Re6,f4,Bc5,Qd3,Qc8,Be3,Ba6,Qd2,Bxf1,Rxf1,Rb8,Bh3,Bxe3,Qxe3,Re7,Qf3,h6,e5,Nh7,Ne4,Qb7,Qd3,g6,Bg2,Qc8,Qd2,Qe8,f5,Rxe5,fxg6,fxg6,Nf2,Rf5,Qxh6,Qe2', 'Qxg6+,Kh8,Qxf5', 'https://lichess.org/training/fEtZp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('feUsP', 'Blitz', 'Mr_Skadoosh', 1598, 'mxlrd', 1595, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nc6,Nc3,e6,Be3,g6,Nxc6,bxc6,Bd4,Nf6,e5,Nh5,Be2,Nf4,Bf3,Bg7,Qd2,Bh6,Be3,g5,g3,Nd5,Bxd5,cxd5,h4,Rg8,hxg5,Bxg5,Rxh7,Bxe3,Qxe3,Qe7,O-O-O,Bb7,Qf3,Rc8,Rd4,Rf8,Qg4,Kd8,Rb4,Bc6,Rb6,Qc5,Rxa6,Qxf2,Qg5+,Kc7,Rh1,Rg8,Qe7,Rxg3,Qd6+,Kd8', 'Rh8+,Rg8,Rxg8#', 'https://lichess.org/training/feUsP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FEW7X', 'Blitz', 'Seppwin', 1806, 'Coronga1', 1786, 'c4,e5,Nc3,Nf6,Nf3,d6,d3,Bg4,e3,Nbd7,Be2,Be7,O-O,O-O,b4,h6,a3,c6,Bb2,d5,Rc1,Rc8,h3,Bh5,d4,e4,Nd2,Bg6,f3,exf3,Bxf3,Nb6,c5,Nbd7,e4,dxe4,Ndxe4,Nd5,Nxd5,cxd5,Nc3,Nf6,Qd2,Ne4,Nxe4,dxe4,Bg4,Rb8,Rce1,Bg5,Qe2,f5,Bh5,Qe8,Bxg6,Qxg6,d5,e3,Rf3,f4,d6,Bh4,Rd1,Rbd8,Qc4+,Kh8,Rxf4,Rxf4,Qxf4,Bf2+,Kh1,Rf8,Qxf8+,Kh7,Qf3,Qc2,Be5,e2,Qxf2,Qxd1+,Kh2,e1=Q,Qf5+,Kg8,Qe6+,Kh7,Qf5+,Kg8,Qe6+,Kf8', 'Qe7+,Kg8,Qxg7#', 'https://lichess.org/training/FEW7X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('feX2J', 'Rapid', 'Ertugrul__Yilmaz', 2221, 'Awesome41214008', 2149, 'd4,e6,c4,d5,Nf3,c5,cxd5,exd5,Bg5,Be7,Bxe7,Nxe7,dxc5,Qa5+,Qd2,Qxc5,Nc3,O-O,e3,Nbc6,Rc1,Qa5,a3,Bf5,Nd4,Nxd4,Qxd4,Rad8,Be2,Nc6,Qf4,Bg6,O-O,Rfe8,Rfd1,d4,exd4,h6,Bf3,Qb6,Na4,Qb3,d5,Ne5,Be2,b5,Nc5,Qxb2,d6,Qxe2,Re1,Qxe1+,Rxe1,Rxd6,h3,Nf3+,Qxf3,Rxe1+,Kh2,Rdd1,Qa8+,Kh7,Qxa7,h5,Qb6,h4,g4,Rf1,Kg2,Rg1+,Kf3,f5,gxf5,Bh5+,Ke3', 'Rge1+,Kf4,Rd4+', 'https://lichess.org/training/feX2J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FExf6', 'Blitz', 'rakeshr', 1912, 'Maretty', 1829, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,O-O,Nge7,c3,b5,Bc2,O-O,d4,exd4,cxd4,Bb6,d5,Na7,Qd3,d6,e5,Ng6,exd6,Qxd6,Nc3,Bg4,Ne4,Qd8,Ne5,Bh5,Bg5,Nxe5', 'Nf6+,Kh8,Qxh7#', 'https://lichess.org/training/FExf6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fEyIg', 'Rapid', 'vahid_radaeii', 1755, 'dheeraj1975', 1717, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nf3,Nf6,Nc3,Bb4,Bd3,d5,e5,Ne4,Bd2,Bxc3,Bxc3,O-O,h4,f5,h5,h6,Qe2,Ne7,Nd2,b6,f3,Ng5,f4,Ne4,g4,Nxd2,Bxd2,Nc6,gxf5,Nxd4,Qg4,exf5,Qg6,Nf3+,Ke2,Nxd2,Kxd2,Qe7,a3,Qc5,Rhg1,Qf2+,Kc3,Qc5+,Kd2,Qf2+,Kc3,Qc5+,Kd2,Qf2+,Be2,Qxf4+,Kc2,Rf7,Bd3,Bd7', 'e6,Bxe6,Qxe6', 'https://lichess.org/training/fEyIg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FEyiK', 'Rapid', 'amaks', 1765, 'LaLinea', 1776, 'e4,d5,exd5,c6,dxc6,Nxc6,d3,Nf6,Nc3,e6,Be3,Bd6,Be2,b6,Nf3,Bb7,h3,O-O,Qd2,Bb4,a3,Bxc3,Qxc3,Rc8,Qd2,Nd5,c4,Nxe3,Qxe3,Na5,O-O,Qf6,b4,Nc6,Rac1,Rfd8,Nh2,Qg6,Ng4,h5,Ne5,Nxe5,f3,Nxd3,Bxd3,Rxd3,Qe5,Bxf3,Rf2,Rcd8,Kh2,Ba8,Rcc2,Kh8,c5,bxc5,Rxc5,R3d5,Rxd5,Bxd5,Qc7,Rf8,Qxa7,h4,Qe3,f5,b5,f4,Qe5,Rf5,Qb8+,Kh7,Qd8,Qg3+,Kg1,Re5,Qa5,Rg5,Qd2,Qxh3,Qc2+,Kh6,Qd2,f3', 'Qxg5+,Kxg5,gxh3', 'https://lichess.org/training/FEyiK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('feYTL', 'Blitz', 'IM www68', 2551, 'djoni95', 2372, 'e4,d6,d4,Nf6,Nc3,e5,Nge2,c6,a4,Be7,h3,Nbd7,g4,a5,Bg2,h6,Be3,g6,O-O,Qc7,Qd2,h5,g5,Nh7,h4,Nhf8,f4,exf4,Nxf4,Ne6,Nxe6,fxe6,Bh3,Nf8,Qd3,Bd7,e5,O-O-O,exd6,Bxd6,Ne4,Bh2+,Kh1,Bg3,Bf2,Bxf2,Rxf2,e5,Bxd7+,Rxd7,Qh3,Kb8,Raf1,Rd8,Nc5,exd4,Rxf8,Rhxf8,Rxf8,Rxf8,Nd7+,Ka7,Nxf8,Qf4,Ne6,Qe4+,Kh2,Qxc2+,Qg2', 'd3,Nf4,d2', 'https://lichess.org/training/feYTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fEzfb', 'Blitz', 'Ura424036', 1945, 'CTATyC-KBO', 1669, 'e4,d5,Nc3,d4,Nce2,e5,d3,Nf6,Nf3,Bg4,Ng3,Be7,Be2,O-O,Nxe5,Bxe2,Qxe2,Bd6,Nf3,c5,O-O,Bxg3,fxg3,Nc6,a3,Re8,Bg5,h6,Bf4,Ng4,h3,Ne3,Bxe3,dxe3,Qxe3,f5,Rad1,Nd4,c3,fxe4,dxe4,Nxf3+,Qxf3,Qb6,Qf7+,Kh8,b4,cxb4+,Kh2,bxc3,Rd7,Rg8,Rxb7,Qd6,Rc7,Qxa3,Qg6,Rac8,Rd7,c2,Rff7,Qc3', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/fEzfb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FeZoU', 'Rapid', 'tuntger', 2004, 'Endgame35', 1945, 'd4,Nf6,c3,d5,a3,c5,f3,Nc6,b4,cxd4,cxd4,Bf5,Nc3,e6,g3,Be7,Bg2,a5,b5,Nb8,a4,Bb4,Bd2,Qc7,Qc1,Nbd7,e3,Rc8,Nge2,O-O,O-O,Nb6,e4,dxe4,Nxe4,Nfd5,Qxc7,Rxc7,Bxb4,Nxb4,Rfc1,Rfc8,Rxc7,Rxc7,Nd6,N6d5,Nxf5,exf5,f4,Ne3,Bf3,b6,Kf2,Ng4+,Bxg4,fxg4,Rc1,Rxc1,Nxc1,f5,Ke3,Kf7,Ne2,Ke6,Nc3', 'Nd5+,Nxd5,Kxd5', 'https://lichess.org/training/FeZoU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FF0Sa', 'Rapid', 'hayale36', 1849, 'pentacampeon', 1880, 'e4,e5,f4,d5,exd5,Qxd5,Nc3,Qe6,fxe5,Qxe5+,Be2,Bg4,d4,Bxe2,Ncxe2,Qe4,Nf3,Nd7,O-O,O-O-O,Re1,Bd6,Bg5,f6,Bh4,g5,Bg3,Bxg3,Nxg3,Qc6,Nf5,Ne5,Nxe5,fxe5,Qg4,Kb8,dxe5,h6,Nd4,Qc5,c3,Ne7,Kh1,Nc6,Ne6,Nxe5,Qf5,Rdf8,Qxe5', 'Rf1+,Rxf1,Qxe5', 'https://lichess.org/training/FF0Sa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fF2nf', 'Blitz', 'PAC3', 1594, 'Baba5590', 1516, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Bc4,a6,O-O,e5,Qd3,Nf6,Bg5,Be7,Nd2,O-O,f4,exf4,Rxf4,h6,Bxf6,Bxf6,Raf1,Be6,Bxe6,fxe6,Qh3,Qb6+,Kh1,e5,Qe6+,Kh8,Rg4,Rae8,Qf5,Qxb2,Nc4,Qxc2,Nxd6,Re7,Qh5,Qc5,Nf5,Qb5,Rg1,Rc7,Nxh6,gxh6', 'Qxh6+,Rh7,Qxf8#', 'https://lichess.org/training/fF2nf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ff2ue', 'Rapid', 'Teamplayer54', 1947, 'Tenakel', 2173, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,a3,Nh6,Bd3,Bd7,Bc2,cxd4,cxd4,Nf5,Bxf5,exf5,Nc3,Be6,Rb1,Be7,b4,Rc8,Na4,Qb5,Nc5,O-O,Qe2,Qxe2+,Kxe2,b6,Nxe6,fxe6,Bd2,b5,Rbc1,Nb8,Rxc8,Rxc8,Rc1,Rc4,Be3,Nd7,Kd1,Nb6,Nd2,Rxc1+,Kxc1,Nc4,Nxc4,dxc4,Kc2,Kf7,Kc3,g5,f4,gxf4,Bxf4,Bf8,g3,Ke7,Bg5+,Kd7,Bf4,Be7,Be3,Bd8,Bh6,Kc6,Bf8,Kd5,h4,Ke4,Bc5,a6,h5,Bg5,Bf8,Bc1,Be7,Bxa3,Bd6,Bc1,Be7,Be3,Bf6,Bxd4+,Kd2,Bxe5,Bxe5,Kxe5,Kc3,Ke4,g4,Kf3', 'g5,e5,g6', 'https://lichess.org/training/Ff2ue');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FF4Gq', 'Rapid', 'ahmed3333', 2138, 'mgh2010', 2135, 'c4,Nf6,d4,d6,Nc3,Nc6,e4,e5,d5,Nd4,Be3,c5,dxc6,Qb6,cxb7,Bxb7,Qd3,Rc8,f3,Nc2+,Qxc2,Qxe3+,Be2,Rxc4,Qb3,Rc7,Nh3,Be7,Nb5,Rc1+,Rxc1,Qxc1+,Bd1,O-O,Nf2,d5,Nc3,Ba6,Nxd5,Nxd5,exd5,Bb4+,Qxb4', 'Qe3+,Be2,Qxe2#', 'https://lichess.org/training/FF4Gq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ff8CI', 'Blitz', 'Lucuix21', 2341, 'IM Tahaned2015', 2541, 'Nf3,Nf6,c4,e6,g3,d5,Bg2,Be7,O-O,O-O,b3,b6,d4,Bb7,Ne5,Nbd7,Bb2,c6,f4,Nxe5,fxe5,Ng4,Qd3,Bg5,Bc1,c5,dxc5,Bxc1,Rxc1,Qg5,Qd2,Qxe5,Nc3,Ne3,Bf3,Rad8,cxd5,exd5,cxb6,d4,Bxb7,dxc3,Qxc3', 'Rd1+,Rxd1,Qxc3', 'https://lichess.org/training/Ff8CI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fF8q3', 'Rapid', 'laurent_p', 1663, 'jogador515', 1732, 'e4,c5,Bc4,d6,Nf3,Qc7,Ng5,e6,O-O,Nc6,d3,Bd7,Qf3,Nf6,Bf4,h6,Nxf7,Kxf7,Nc3,g5,Nb5,Qb8,Bg3,a6,Nc3,b5,Bb3,Bg7,e5,Nxe5,Bxe5,dxe5,Ne4,Qa7,Rfe1,Bc6', 'Nd6+,Ke7,Qxc6', 'https://lichess.org/training/fF8q3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FF9o3', 'Classical', 'kondukator0', 2033, 'narizblanca', 1973, 'd4,Nf6,Nf3,g6,Bf4,d6,e3,Bg7,Nc3,O-O,Be2,Nfd7,Bg5,h6,Bh4,g5,Bg3,c5,O-O,Nc6,d5,Nce5,h4,g4,Nxe5,Nxe5,Bxe5,Bxe5,Bxg4,f5,Bh3,Qe8,f4,Bf6,g3,Qg6,Qf3,Bxh4,Kh2,Bf6,Rg1,h5,Rab1,Bxc3,bxc3,b6,c4,e6,dxe6,Bxe6,Bf1,Rad8,Be2,Rf7,Rbd1,Rg7,Kg2,h4,Kf2,h3,Rh1,Qg4,Rh2,Kf8,Qxg4,fxg4,e4,Ke7,f5,Bf7,Ke3,Bh5,Kf4,Kf6,Rd5,a6,a4,Re7,Rd1,Re5,Bd3,b5,axb5,axb5,cxb5,d5,exd5,Rexd5,Ra1,Rd4+,Ke3,Re8+,Kd2,Rd7,Kc3,Re3,Kc4,Rxg3,Kxc5,Re3,Ra6+,Kg5,Kc6,Rg7,b6,g3,Rxh3,g2,Rxe3,g1=Q,Re6,Bf3+,Kb5,Qd4,Rg6+,Kf4', 'Ra4,Qxa4+,Kxa4', 'https://lichess.org/training/FF9o3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ff9O7', 'Rapid', 'everman555', 2028, 'Sagittarii_arcus', 2079, 'd4,f5,Nf3,d5,Bf4,e6,Ne5,Nf6,h3,Nbd7,Nd2,c5,e3,Be7,Bb5,O-O,Bxd7,Nxd7,Nxd7,Bxd7,Nf3,Bb5,c3,Qb6,Qb3,Qa6,Ne5,cxd4,exd4,g5,Bh2', 'Ba4,Qxa4,Qxa4', 'https://lichess.org/training/Ff9O7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FfC0P', 'Rapid', 'wiesk', 1987, 'Adarsh32', 2022, 'c4,e5,e3,Bc5,Nc3,Nc6,a3,a5,Nf3,Ba7,d4,exd4,exd4,d6,Be3,f5,Be2,Nf6,h3,h6,O-O,O-O,Qb3,Kh8,Rad1,Ne4,Nxe4,fxe4,Nd2,Qe7,d5,Nd4,Bxd4,Bxd4,Qc2,Qh4,Qxe4,Qxe4,Nxe4,Bxb2,Rd3,Bf5,Bf3,Rae8,Re1,Re7,Re2,Bf6,Rb3,Bxe4,Rxe4,b6,Rbe3,Rxe4,Rxe4,Kg8,a4,Be5,Bg4,Kf7,Be6+,Kf6,f4,Bc3,g4,g6,h4,Re8,g5+,Kg7,Kg2,Bb4,Kf3,Bc5,gxh6+,Kxh6,Kg4,Bf2,Re2,Bd4,Rg2,Rf8,f5,Rf6,Rg3,Be5,Rf3,c6', 'dxc6,gxf5+,Bxf5', 'https://lichess.org/training/FfC0P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fFcYr', 'Rapid', 'chesscofran', 1903, 'orhangul', 1967, 'd4,d5,Bg5,g6,e3,Bg7,Bb5+,Bd7,Bd3,Nf6,Nd2,O-O,Ngf3,a6,Ne5,Bb5,c4,dxc4,Ndxc4,Nbd7,Nxd7,Qxd7,b3,h6,Bh4,Nd5,O-O,Rac8,Bg3,c5,Ne5,Bxe5,Bxe5,cxd4,Bxd4,Nb4,Bxb5,Qxb5,Qd2,Nc2,Rac1,Nxd4,Rxc8', 'Ne2+,Qxe2,Qxe2', 'https://lichess.org/training/fFcYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fFDPM', 'Rapid', 'marlei', 1850, 'Hpryor', 1614, 'f4,d5,Nf3,c5,e3,Nd7,c3,Ngf6,d4,cxd4,cxd4,g6,Nc3,Bg7,Bd3,O-O,O-O,a6,Ne5,b5,b4,Nb6,a3,Nc4,Rb1,Qc7,Bd2,Nxe3,Nxb5,axb5,Bxe3,Rxa3,Bc1,Ra8,Bxb5,Ne4,Qb3,Nc3,Bc6,Nxb1,Bxa8,Nc3,Bb2,Ne2+,Kh1,Ba6,Bxd5,Nxd4,Bxf7+,Kh8,Bxd4,Bxf1', 'Nxg6+,hxg6,Qh3#', 'https://lichess.org/training/fFDPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ffe88', 'Blitz', 'magiste', 1917, 'k0k0s0v', 1972, 'e4,e5,d4,exd4,Bc4,d6,Nf3,Nf6,Nxd4,Nc6,O-O,Nxd4,Qxd4,Be7,f4,a6,Nc3,b5,Bb3,c5,Qf2,c4,e5,dxe5,fxe5,O-O,exf6,Bxf6,Qg3,Bb7,Bxc4,bxc4,Be3,Re8,Rad1,Qa5,Rxf6,Rxe3,Qxe3,gxf6,Rf1,Qg5,Qf2,Kg7,Ne2,Rd8,Ng3,Rd2,Qb6,Rxg2+,Kh1,Rxh2+,Kxh2', 'Qh4+,Kg1,Qxg3#', 'https://lichess.org/training/Ffe88');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFEeU', 'Classical', 'sapeg', 1746, 'Zdrojek', 1798, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,Qc7,Nc3,a6,Bc4,b5,Bb3,Bb7,d5,Ne5,Bf4,Nxf3+,Qxf3,Bd6,e5,Bb4,Rc1,Ne7,d6,Bxf3,dxc7,Rc8,a3,Bxc3+,Rxc3,Bxg2,Rg1,Bc6,Rxg7,Rg8,Rxh7,Rxc7,a4,Kd8,Rxf7,Nd5,Bxd5,Bxd5,Rxc7,Kxc7,axb5,axb5,h4,Rg1+,Ke2,Rb1,h5,Rxb2+,Kf1,Rb1+,Ke2,Rh1,h6,Be4,Bd2,Bf5,Rg7,Rh4,Rg3,Kc6,Rf3', 'Bg4,Ke3,Bxf3', 'https://lichess.org/training/FFEeU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffFaw', 'Blitz', 'Kboy1990', 2195, 'CM RobertoRochaMAO', 2226, 'd4,d5,c4,dxc4,Nf3,Nf6,e3,e6,Bxc4,Be7,O-O,O-O,Qe2,b6,Rd1,Bb7,Nc3,c6,a4,Nd5,Bd2,Nd7,Ba6,Bxa6,Qxa6,N7f6,Qe2,Rc8,Rac1,c5,dxc5,Bxc5,Nxd5,Nxd5,e4,Ne7,b4,Bd6,Rxc8,Nxc8,e5,Be7,Bg5,Qc7,Bxe7,Nxe7,b5,Nd5,Qd3,g6,Ng5,h6', 'Nxe6,fxe6,Qxg6+,Kh8,Qxh6+', 'https://lichess.org/training/ffFaw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FfFcq', 'Rapid', 'Chafwema', 1712, 'Velpeau', 2119, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf5,d5,exd5,Bxf5,dxc6,bxc6,Qf3,Qd7,Bg5,Bb4,Rd1,Qe6,Bb5,O-O,Bxc6,e4,Qf4,Nh5,Qh4,Qxc6,Qxh5,Bxc3+,bxc3,Qxc3+,Bd2,Qf6,O-O,Rfc8,Rc1,Rc4,c3,a5,Be3,Bg6,Qd5,Rac8,Bd4,Qa6,Qe5,f6,Qd5+,Kh8,Rfd1,h6,Re1,a4,h3,a3,Rb1,Qa4,Rb7,Qc2,Re7,Qxa2,Qd7,Rg8,Rxg7,Rxg7,Bxf6,Rc7,Qxc7,Bf7,Bxg7+,Kxg7,Rxe4', 'Qb1+,Kh2,Qxe4', 'https://lichess.org/training/FfFcq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffGLJ', 'Rapid', 'elpeonnqn', 1655, 'Liotru', 1635, 'e4,e5,Nf3,Nc6,Nc3,d6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,Be6,Be3,Bxc4,Qxc4,Qd7,Nd5,O-O-O,O-O-O,Ne7,Bxa7,Nxd5,exd5,Be7,Rhe1,Bg5+,f4,Bf6,g4,g5,f5,Be5,h3,Bf4+,Kb1,b5,Qd3,c5,dxc6,Qxa7,Qxb5,Kc7,Rd3,Rhe8,Rxe8', 'Qg1+,Re1,Qxe1+,Rd1,Qxd1#', 'https://lichess.org/training/ffGLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffhGC', 'Blitz', 'crystal_king', 1960, 'Flanchett0', 1979, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bc4,c6,Nf3,Bg4,Bxf7+,Kxf7,Ne5+,Kg8,Nxg4,Nxg4,Qxg4,Qd7,Qe4,Na6,O-O,Nc7,Re1,e6,Bf4,h5,Bxc7,Qxc7,Qxe6+,Qf7,Qe3,Rd8,Ne4,Be7,Rad1,Rh6,Ng5,Bxg5,Qxg5,Rf8,Re2,Re6,Rde1', 'Qxf2+,Rxf2,Rxe1+,Rf1,Rexf1#', 'https://lichess.org/training/ffhGC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFINJ', 'Rapid', 'axlsal', 2092, 'Bursenfieber', 2076, 'e4,c5,Nf3,d6,b4,cxb4,d4,Nf6,Bd3,Nc6,h3,e6,e5,dxe5,dxe5,Nd5,O-O,Be7,Bb2,O-O,c4,bxc3,Nxc3,Qc7,Nxd5,exd5,Rc1,Bb4,Qb3,Be6,Rxc6,bxc6,Qxb4,c5,Qh4,h6,g4,Qd8,g5,Rb8,Bc1,Rb4,Qg3,hxg5,Bxg5,Qd7,Bf6,Bg4,Qh4,Bf5,Qg5,Bg6,Kh2,gxf6,exf6,Re4,Qh6,Qd6+,Kh1,Qxf6,Bxe4,dxe4,Nh4,e3,Rg1,Qg7,Qxe3,Qf6,Qg3,Qc6+,f3,Kg7', 'Nf5+,Kh7,Qh4+', 'https://lichess.org/training/FFINJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffJmp', 'Rapid', 'ValentinOstenfeld9', 1973, 'TheLopes', 1775, 'd4,Nf6,c4,g6,Nf3,Bg7,g3,d6,Bg2,O-O,O-O,Nbd7,Nc3,e5,d5,c6,e4,Ne8,Re1,f5,Ng5,Ndf6,exf5,gxf5,dxc6,bxc6,Bxc6,Rb8,Rxe5,Bb7,Rxe8,Rxe8,Bxe8,Qxe8,Bf4,Rd8,Qd2,h6,Nh3,Ne4,Nxe4', 'Qxe4,Qd5+,Bxd5', 'https://lichess.org/training/ffJmp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fFJO7', 'Rapid', 'Eric51246', 1774, 'xdVictorSousa', 1890, 'e4,c5,Nf3,Nc6,Bb5,d6,d4,Bd7,dxc5,dxc5,O-O,Nf6,Bxc6,Bxc6,Nc3,Nxe4,Nxe4,Bxe4,Qe2,Qd5,Be3,Bxf3,gxf3,e6,Rfd1,Qc6,a4,Bd6,Ra3,c4,Rc3,Qc7,Rxc4,Bxh2+,Kg2,Qe5,Rc5,Qxb2,Kxh2,O-O,Rg1,b6,Rcg5,g6,Bc1,Qb4,R5g4,Qc5,Bh6', 'Qh5+,Kg2,Qxh6,Rh1,Qg7', 'https://lichess.org/training/fFJO7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffkFb', 'Classical', 'Kloppo09', 1824, 'am_age', 1793, 'c4,c5,Nc3,Nc6,Nf3,e5,e4,Nf6,Be2,Be7,O-O,O-O,Re1,d6,d3,a6,Nd5,Nxd5,exd5,Nd4,Bf1,Bg4,Kh1,Bxf3,gxf3,Bh4,Be3,f5,Bh3,f4,Bxd4,cxd4,Be6+,Kh8,Qe2,Rf6,Rg1,Rh6,Rg4,g5,Rag1,Rf6,R1g2,h5,Rxh4,gxh4,Rg5,Kh7,Rxh5+,Rh6,Qe4+,Kg7,Qf5,Qf6,Qxf6+,Rxf6,Rxh4,Rh8,Rxh8,Kxh8,h3,b6,Kh2,a5,h4,Rh6,Kh3,Kg7,Bf5,Rh8,Kg4,Kh6,Be4,Rg8+,Kf5,Rg2,Ke6,Rh2,Kxd6,Kg7,Kxe5,Rxh4,Kxd4,Kf6,c5,bxc5+,Kxc5,Rh8,b4,axb4,Kxb4,Rb8+,Ka3,Ke5,Ka4,Ra8+,Kb3,Rb8+,Kc4,Kd6,d4,Rc8+,Kb5,Rb8+,Kc4,Rc8+,Kb4,Ra8,a4,Rb8+,Ka3,Ra8,Bd3,Ra5,Be4,Ra7,Kb4,Rb7+,Ka3,Ra7,Kb4,Rb7+,Ka5,Rb2,Ka6,Rxf2,a5,Ra2,Kb6,Rb2+,Ka7,Re2,Kb7,Rxe4,fxe4,f3,a6,f2,a7,f1=Q,a8=Q,Qb5+,Kc8', 'Qd7+,Kb8,Qc7#', 'https://lichess.org/training/ffkFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFKVw', 'Rapid', 'Vigues', 1924, 'Gyisus', 1886, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bf4,a6,e3,Nc6,a3,Bd6,Bg3,O-O,Nf3,Re8,Bd3,Ne4,Qc2,Nxg3,hxg3,g6,O-O,Bg4,Qb3,Bf8,Qxd5,Qf6,Ne4,Qe7,Nc5,Rad8,Qb3,Na5,Qc2,Qf6,Ne5,Bxc5,Nxg4,Qg5,dxc5,Qxg4,b4,Nc6,b5,axb5,Bxb5,h5,Be2,Qg5,Bf3,h4,Bxc6,bxc6,gxh4,Qxh4,Rad1,Kg7,Rxd8,Rxd8,Rb1,Rh8,Qc3+', 'f6,f3,Qh1+,Kf2,Qxb1', 'https://lichess.org/training/FFKVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFL76', 'Rapid', 'jmolpindo', 1970, 'kjh20-brainx', 1924, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,h3,a6,a4,h6,c3,O-O,b4,Ba7,Nbd2,d5,exd5,Nxd5,Bb2,Nf4,Ne4,Kh8,Qd2,f5,Ng3,Be6,Bxe6,Nxe6,Rfe1,Qf6,d4,exd4,cxd4,Nexd4,Nxd4,Bxd4,Bxd4,Nxd4,Rad1,Rad8,Qf4,Rd6,Nh5,Qg6,Rxd4,Rxd4,Qxd4,Qxh5,Re7,Rf7,Qd8+,Kh7,Rxc7,Rxc7,Qxc7,Qd1+,Kh2,Qxa4,Qxb7,Qb5,Qxb5,axb5,Kg3,Kg6,Kf4,Kf6,g3,g5+,Ke3,Ke5,f4+,gxf4+,gxf4+,Kd5,Kd3,Kc6,Kd4,Kd6,Ke3,Ke6,h4', 'Kd5,Kd3,h5,Ke3,Kc4', 'https://lichess.org/training/FFL76');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FfLJ4', 'Rapid', 'Pedri28', 1814, 'rachelinator', 1790, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Be2,Ne7,O-O,Nf5,Bf4,Bd6,Bxd6,Qxd6,Nb5,Qd7,Rc1,Rb8,c4,O-O,c5,Rxb5', 'c6,Qd6,Bxb5', 'https://lichess.org/training/FfLJ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffmjw', 'Classical', 'ktrkdr1', 1644, 'LaurieKeim', 1606, 'e4,c5,Nf3,Nc6,d3,e5,b3,Nf6,Bb2,d6,a3,Bg4,Be2,b5,c4,bxc4,bxc4,Rb8,Qa4,Qc7,Bc3,a5,O-O,Be7,Re1,Bd7,Qc2,O-O,Nbd2,Nh5,Rab1,f5,exf5,Bxf5,Rxb8,Rxb8,Ne4,Nf6,Nxf6+,Bxf6,h3,Rd8,g4,Be6,Bd2,d5,Ng5,Bxg5,Bxg5,Rf8,cxd5,Bxd5,Qxc5,Qf7,Be3,Ne7,Qxa5,Bf3,Qxe5,Ng6,Qg3,Bxe2,Rxe2,Qb3,d4', 'Qd1+,Kg2,Qxe2', 'https://lichess.org/training/ffmjw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFMRt', 'Blitz', 'cachopaliza', 1724, 'Tanulopenz', 1526, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,f3,Be6,Bg5,Be7,O-O-O,O-O,Kb1,c5,Qd2,a5,h4,a4,a3,Bd7,g4,b5,h5,b4,axb4,cxb4,Nd5,a3,Nxf6+,Bxf6,Bxf6,Qxf6,Qd4,axb2,Qxf6,gxf6,Rxd6,Be6,Kxb2,Ra2+,Kb1,Rfa8,Kc1,Ra1+,Kd2,b3,cxb3,Bxb3,Bc4,R8a2+,Kc3,Bxc4', 'Rd8+,Kg7,h6+,Kg6,Rg8#', 'https://lichess.org/training/FFMRt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFosJ', 'Blitz', 'cozinha24', 2276, 'bibliotecamunicipal', 2160, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Qc2,Re8+,Ne2,h5,O-O,h4,h3,Nd7,Bf4,Bxf4,Nxf4,Nf8,Rad1,Qd6,Ne2,Be6,c4,Rad8,b3,Qd7,a4,Bxh3,gxh3,Qxh3,Bf5,Rxe2,Qxe2,Qxf5,Rd3,Ng6,Qf3,Nf4,Rdd1,g5,Kh1,g4,Qe3,g3,fxg3', 'Qh3+,Kg1,Qg2#', 'https://lichess.org/training/FFosJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFp8v', 'Rapid', 'ddeepaksinha', 1645, 'Haraam', 1676, 'e4,d5,exd5,Qxd5,Be2,Qxg2,Bf3,Qg6,d4,e6,Nc3,Nc6,Nb5,Bd6,d5,Nb4,dxe6,Nxc2+,Kf1,Nxa1,Nxd6+,cxd6,Qxd6,Qxe6,Qxe6+,Bxe6,Ne2,Bxa2,Rg1,g6,Rg5,Nc2,Nc3,Bc4+,Kg1,Nd4,Bxb7,Rd8,Re5+,Ne7,Ne4,Nf3+,Kg2,Nxe5', 'Nf6+,Kf8,Bh6#', 'https://lichess.org/training/FFp8v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FfPAq', 'Rapid', 'eitansar', 1647, 'EitanWolf', 1785, 'e4,e5,f4,d6,Nf3,Nc6,d4,Bg4,d5,Bxf3,gxf3,Nd4,fxe5,dxe5,c3,Qh4+,Kd2,Qf2+,Be2,Nxf3+,Kd3,Nh4,Qf1,Qxf1,Rxf1,Ng2,Be3,Nxe3,Kxe3,Bc5+,Kd2,Nf6,Bb5+,Ke7,Kd3,a6,Bc4,b5,Bb3,Rad8,Nd2,c6,c4,cxd5,cxd5,Bd4,Nf3,Bxb2,Rab1,Ba3,Nxe5,b4,Ke3,Rc8,d6+,Kf8,Nxf7,Rc3+,Kd4,Rg8,Ne5,Rh8,Nd7+,Ke8,Nxf6+,gxf6,Rxf6,Rf8,Rxf8+,Kxf8,Rf1+,Ke8,Rf7,Bb2,Re7+,Kd8,Kd5,Rd3+,Ke6,Rh3,d7', 'Rh6+,Kf7,Rf6+,Kg8,Kxe7', 'https://lichess.org/training/FfPAq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffpdM', 'Rapid', 'iknobo', 1780, 'Ugo_Fantozzi', 1727, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,d6,O-O,Bg4,Be2,Qd7,Na4,Bb6,Nxb6,axb6,d3,Nf6,Bg5,Nh5,Nd2,Bxe2,Qxe2,g6,Nc4,Nd4,Qd2,Qg4,f3,Qe6,c3,Nc6,f4,f6,Bh4,exf4,Qe1,g5,Qe2,g4,d4,d5,Nd2,dxe4,Nxe4,f5', 'Nf6+,Kf7,Qxe6+', 'https://lichess.org/training/ffpdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FfpmR', 'Classical', 'tedysugara890', 1712, 'jinman2718', 1920, 'e4,c6,d4,d5,e5,Bf5,Be3,e6,a3,Qb6,b4,a5,c4,axb4,c5,Qc7,a4,Ne7,Nf3,Bg4,Be2,Nf5,O-O,Nxe3,fxe3,Be7,Ng5,Bxe2,Nxe6,fxe6,Qxe2,Nd7,Qh5+,g6,Qg4,Nf8,Qf3,O-O-O,Nd2,Nd7,Qe2,Nxe5,a5,Kd7,dxe5,Bxc5,Nb3,Ba7', 'Rf7+,Kc8,Rxc7+', 'https://lichess.org/training/FfpmR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffPQ8', 'Rapid', 'HanneBeate', 1949, 'harnasmleko', 1777, 'c4,d6,d4,Nf6,Nc3,Nbd7,e4,e5,d5,c5,dxc6,bxc6,Nf3,Ba6,Qa4,Qb6,b3,Nc5,Qa3,Be7,Nd2,d5,b4,Ncxe4,c5,Nxc5,bxc5,Bxc5,Qxa6,Bxf2+,Kd1,Qc5,Na4,Qd6,Bb5,O-O,Rf1,Ne4,Qxc6,Qb4,a3,Qd4,Rb1,Rac8,Qa6', 'Rxc1+,Kxc1,Qxd2#', 'https://lichess.org/training/ffPQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FfPYO', 'Rapid', 'Cicuta', 1616, 'krasify', 1612, 'e4,e5,Nf3,d6,Bc4,Bg4,O-O,Nf6,d3,d5,exd5,Nxd5,Bxd5,Qxd5,Nbd2,Bxf3,Nxf3,e4,Re1,Bd6,Rxe4+,Kf8,c4,Qh5,Qe2,Nc6,b3,Be5,Rb1,Nd4,Nxd4', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/FfPYO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFQwm', 'Bullet', 'M2413', 2014, 'camelopamandanan', 2007, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,cxd4,cxd4,Be7,Nf3,O-O,O-O,f5,exf6,Bxf6,a3,e5,dxe5,Ndxe5,Nxe5,Nxe5,Bb1,Bg4,f3,Bh5,Ng3,Bf7,f4,Nc4,f5,d4,Nh5,Bxh5,Qxh5,Ne3,Rf3,Qc7,Bxe3,dxe3,Bd3,Rad8,Bf1,e2,Bxe2,Bxb2,Rb1,Qc2,Rxb2,Qxb2,Bc4+,Kh8', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/FFQwm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFRju', 'Rapid', 'geah95', 1604, 'Prometheus320d', 1616, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,Nf3,Nc6,g3,e5,d3,Nf6,Bg2,Bc5,Bg5,a6,O-O,O-O,Ne4,Be7,Nfd2,Nd4,e3,Ne6,Bxf6,Bxf6,Nb3,Ng5,d4,Nxe4,Bxe4,Bh3,Re1,Qe7,Nc5,c6,a4,Rad8,a5,Kh8,d5,Qxc5,Qh5,h6,Qxh3,Qb4', 'Qf5,g6,Qxf6+', 'https://lichess.org/training/FFRju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffrkd', 'Rapid', 'multiblunderwonder', 1843, 'zero304', 1901, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,O-O,a3,Bxc3+,bxc3,b6,Nf3,Bb7,e3,h6,Bh4,d5,Bxf6,Qxf6,cxd5,Bxd5,Be2,c5,c4,Be4,dxc5,Qc3+,Kf1,Na6,cxb6,axb6,Qc1,Qb3,Nd4,Qa4,Nb5,Rac8,Nd6,Nc5,Nxc8,Rxc8,f3,Bd3,Qc3,Rd8,Kf2,Bxe2,Kxe2,Rd3,Qb2,Qxc4,Kf2,Rb3,Qd4,Qc2+,Kg3,Qg6+,Qg4', 'Ne4+,fxe4,Rxe3+,Kf2,Qxg4', 'https://lichess.org/training/ffrkd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffSKF', 'Blitz', 'Dosent', 1667, 'mks', 1571, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Bd6,Nc3,c6,Bd3,O-O,Qd2,Be6,Ne5,Re8,f4,Be7,f5,Bc8,O-O-O,Nbd7,h4,a6,h5,h6,Bxh6,Nxe5,dxe5,Ng4,Bf4,c5,f6,gxf6,Rh4,fxe5,Rxg4+,Bxg4,Bxe5,Bg5,Bf4,Bxf4,Qxf4,Bxd1,Qh6,Re1,Bh7+,Kh8,Bg6+,Kg8,Bh7+,Kh8', 'Bg6+,Kg8,Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/ffSKF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fFSq3', 'Rapid', 'fillin66', 1632, 'nelsonleonardoflores', 1688, 'e4,c5,Bc4,g6,d3,Bg7,c3,a6,a3,Nc6,Nf3,e6,O-O,b5,Ba2,Bb7,Nbd2,Ne5,Nxe5,Bxe5,Nf3,Bg7,Be3,Ne7,Bxc5,d6,Be3,O-O,Ng5,Rc8,Qf3,d5,Bd4,dxe4,dxe4,Bxd4,cxd4,Qxd4,Qh3,h5,Rac1,Rxc1,Rxc1,Nc6,Nxe6,fxe6,Bxe6+,Kg7,Qg3,Ne7,h3,Bxe4,Rc7,Qf6,Rxe7+,Qxe7,Qe5+,Kh7', 'Bg8+,Kxg8,Qxe7', 'https://lichess.org/training/fFSq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fFUJy', 'Rapid', 'Veno0m', 1848, 'sinan62', 1786, 'd4,b6,c4,Bb7,Nc3,Nc6,e4,e6,Nf3,f6,Be2,Qe7,a4,O-O-O,a5,Nxa5,c5,Kb8,b4,Nc6,cxb6,cxb6,b5,Na5,Bd2,Ba8,e5,d5,exd6,Rxd6,Bf4,e5,dxe5,Rxd1+,Rxd1,Bxf3', 'exf6+,Kc8,fxe7', 'https://lichess.org/training/fFUJy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FfV5T', 'Rapid', 'Rimah', 1636, 'Evening227', 1637, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bd6,Nc3,Bg4,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,O-O,O-O-O,Bg5,h6,Bxf6,gxf6,a3,Rhg8,b4,b5,a4,Kb7,axb5,cxb5,Nd5,Rg6,c3,Rdg8,g3,h5,h4,c6,Ne3,Be7,Nf5,Bf8,Rad1,Bh6,Nxh6,Rxh6,d4,Kc7,d5,f5,exf5,Rf6,dxc6,Kxc6,Rd2,Rxf5,Rfd1,Rf6,Rd5,Re6,Kg2,f6,Rc5+,Kb6,Re1,Rd8,f4,e4,Rxh5,Rd2+,Kh3,e3,Rc5,e2,f5', 'Rd1,Rxe2,Rxe2', 'https://lichess.org/training/FfV5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fFvLz', 'Rapid', 'Andivt', 1891, 'GigladGV', 1986, 'e4,c5,Nf3,Nc6,d4,d5,e5,e6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,Bf4,f6,exf6,Qxf6,Be5,Qg6,Nbd2,Nf6,c3,c4,b3,b5,bxc4,bxc4,Rb1,Be7,Rb6,Bb5,a4,Ne4,Nxe4,dxe4,Nd2,Bd7,Nxc4,Rc8,Nd6+,Bxd6,Bxd6,Rxc3,Rxa6,Bc8,Ra8,Rc6,Bc5,Kf7,Qb3,Rc7,a5,Rb7,Qa4,Bd7,a6,Rxa8,Qc4,Bb5', 'axb7,Bxc4,bxa8=Q', 'https://lichess.org/training/fFvLz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFVPz', 'Blitz', 'GM athena-pallada', 2703, 'Froomedog', 2734, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Qxd4,e6,Nf3,d6,exd6,Nc6,Qg4,Nf6,Qg3,Ne4,Qf4,Nxd6,Be2,f6,O-O,e5,Qa4,Be6,Rd1,Be7,Na3,Qc7,Be3,O-O,Nb5,Nxb5,Bxb5,Na5,Bd7,Bf7,Qg4,Kh8,Be6,Be8,Nh4,Nc6,Rd7,Qa5,Rad1,Rd8,Nf5,Bg6,Nxe7,Nxe7,Rxe7,f5,Qe2,f4,b4,Qa4,Rxd8,Rxd8,Bb3,Qc6,Bxa7,e4,h3,Qxc3,Rxe4,Bxe4,Qxe4,f3,Qxf3,Qc1+,Kh2,Qd2,Bc5,b6,Be3,Qd6+,g3,Qxb4,Bf4,Qc5,Qe3,Qb4,Be5,Rf8,Bxg7+,Kxg7', 'Qg5+,Kh8,Qe5+,Rf6,Qxf6#', 'https://lichess.org/training/FFVPz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fFx9a', 'Rapid', 'Philouu', 1633, 'Dendrimer', 1605, 'd4,f5,Nf3,Nf6,e3,d5,Bd3,e6,c4,c6,Nc3,Bd6,c5,Bc7,b4,a6,a4,O-O,a5,Ne4,Bb2,Nd7,Nd2,Ndf6,f3,Nxd2,Qxd2,e5,O-O,e4,fxe4,fxe4,Be2,Bg4,Nd1,Bxe2,Qxe2,Qd7,Nf2,Rf7,Nh3,h6,Bc1,Raf8,Bd2,Ng4,Nf4,Qe7,h3,Bxf4,Qxg4,Bg5,Rxf7,Qxf7,Qg3,Qh5,Rf1,Rxf1+,Kxf1,Qd1+,Qe1,Qxe1+,Kxe1,Bh4+,Ke2,Bg3,Be1,Bxe1,Kxe1,g5,Kf2,Kf7,Kg3,h5,h4,g4', 'Kf4,Kg6,Ke5', 'https://lichess.org/training/fFx9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffxet', 'Blitz', 'marcelo27084', 2008, 'veli_veliev', 2033, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,c4,Nc6,Nc3,Bg4,cxd5,Nxd5,Bc4,e6,Qb3,Bxf3,gxf3,Nb6,d5,Nxc4,Qxc4,exd5,Nxd5,Be7,Rg1,Bf6,Nxf6+,Qxf6,Qe4+,Kf8,Be3,Qxb2,Rb1,Qc3+,Kf1,Re8,Qa4,Qd3+,Kg2,Qg6+,Kh1,Qf5,Rxb7,Qxf3+,Rg2,Ne5', 'Bc5+,Kg8,Qxe8#', 'https://lichess.org/training/ffxet');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FfxoM', 'Rapid', 'marcsimus', 1759, 'koskor', 1726, 'g3,d5,d4,Nf6,Nc3,Nc6,Bg2,h6,e4,Nxe4,Nxe4,dxe4,Bxe4,Nxd4,c3,Nc6,Qf3,Bd7,Be3,e6,O-O-O,Bd6,Ne2,Ne5,Qg2,Ng4,Bxb7,Nxe3,fxe3,Rb8,Bc6,O-O,Nd4,Qe7,Rhf1,e5,Bxd7,exd4,Bc6,dxc3,bxc3,Qxe3+,Kc2,Ba3,Rb1,Qe6,Bd5,Qg6+,Qe4,Qxe4+,Bxe4,Rfe8,Bc6,Re2+,Kd3,Rxb1,Rxb1,Rxh2,Be4,g6,Rb7,Bd6,Rxa7,Bxg3,a4,h5,a5,h4,Bd5,Rb2,Ra8+,Kg7,a6,Rb5,Kc4,Ra5,Kb4,Rxd5,a7,Bf2', 'Rg8+,Kxg8,a8=Q+,Kg7,Qxd5', 'https://lichess.org/training/FfxoM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFxrg', 'Rapid', 'Jochess100', 2017, 'Antoniocornella', 2051, 'e4,c5,Nf3,Nc6,Nc3,g6,Bc4,Bg7,d3,Qa5,Bd2,Qb6,Rb1,d6,Nd5,Qd8,b4,Bg4,h3,Be6,b5,Ne5,b6,Bxd5,Bxd5,axb6,Nxe5,Bxe5,f4,Bd4,Bxb7,Rxa2,Bc6+,Kf8,c3,Bf6,O-O,e6,Ra1,Rxa1,Qxa1,Ne7,Bb5,Kg7,Rb1,Qa8,Kf2,d5,e5,Bxe5,fxe5,Qd8,d4,Nf5,g4', 'Qh4+,Ke2,Ng3+', 'https://lichess.org/training/FFxrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFXUr', 'Rapid', 'exilir2006', 1836, 'marian272', 1824, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Nc6,f3,Nxd4,Bxd4,e5,Be3,Be7,Qd2,Qc7,O-O-O,Be6,Nd5,Nxd5,exd5,Bf5,Bd3,Bxd3,Qxd3,O-O,h4,Bf6,g4,g6,h5,Qe7,Rdg1,Bg5,Bxg5,Qxg5+,Kb1,Rac8,Rg2,Rc5,Rgh2,Rfc8,hxg6,fxg6,Rxh7,Rxc2,Qxc2,Rxc2', 'Rh8+,Kf7,R1h7+,Kf6,Rf8#', 'https://lichess.org/training/FFXUr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FfXWR', 'Rapid', 'robyud', 2192, 'daisfernandez', 2159, 'd4,d5,Nf3,c5,dxc5,Nc6,a3,e5,e3,Bxc5,b4,Bb6,Bb2,f6,Be2,Nge7,O-O,O-O,c4,Be6,c5,Bc7,Nbd2,Qd7,Rc1,Ng6,Re1,e4,Nd4,Nce5,Nxe6,Qxe6,Nb3,Rad8,Nd4,Qd7,b5,Qf7,c6,bxc6,bxc6,Rb8,Bc3,Rfc8,Nb5,Nxc6,Nxc7,Rxc7,Rb1,Rbc8,Qd2,Nce5,Rec1,Nc4,Qa2,Nge5,Bxe5,Nxe5,Rxc7,Qxc7,h3,Qd7,Rd1,Rc5,Qb3,Kf7,Qb4,Rc8,Bb5,Qd8,Qd4,Kg6,Qxd5,Qxd5,Rxd5,Rc1+,Kh2,Ra1,a4,Nd3', 'Be8+,Kh6,Rh5#', 'https://lichess.org/training/FfXWR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ffYJg', 'Rapid', 'Kumanda01', 1953, 'Andrey-03', 1687, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,e6,O-O,Be7,d4,c6,c4,Qa5,a3,Nf6,Bd2,Qc7,b4,O-O,Nc3,Nbd7,Qc2,h6,h3,Bh5,Rac1,Nb6,c5,Nbd5,Nxd5,Nxd5,Rfe1,Bf6,Ne5,Bxe2,Rxe2,Qe7,Qe4,Rad8,Qg4,Bg5,f4,Bf6,Re4,Bxe5,fxe5,f5,exf6,Rxf6,Rce1,Re8,Re5,Qf7,b5,Qg6,Qxg6,Rxg6,bxc6,bxc6,g4,Kf7,Kg2,Rf6,Kg3,g5,Rb1,Re7,h4,gxh4+,Kxh4,Kg6,g5,Rf2,Rd1,hxg5+,Rxg5+,Kf6,Kg3', 'Rxd2,Rxd2,Kxg5', 'https://lichess.org/training/ffYJg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FfyuY', 'Rapid', 'vedanta_b_7', 1932, 'harrisonmajors', 1851, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Bc4,h5,O-O,Ng4,Qf3,Be6,Bxe6,fxe6,h3,Rf8,Qe2,Nxf2', 'Qxh5+,Kd7,Qxc5,Nxh3+,gxh3,Rxf1+,Kxf1', 'https://lichess.org/training/FfyuY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FFZEL', 'Rapid', 'samburville', 1757, 'dalvino', 1635, 'e4,e5,d4,exd4,Qxd4,d6,Bf4,Nc6,Qe3,Nge7,Bc4,Ne5,Bxe5,dxe5,Nd2,Ng6,O-O-O,b6,Qg3,Bd6,Ngf3,h6,h4,O-O,Bb3,Nf4,Rhe1,Qf6,Qh2,Be6,g3,Ng6,Re3,Bxb3,Rxb3,Rfd8,h5,Ne7,Nh4,Nc6,Rf3,Qe6,Nf5,Qxa2,Qh4,Qa1+,Nb1,Nd4,Nxd4,exd4,Rxd4,Bf4+,Qxf4,Rxd4,Qxf7+,Kh7,Qg6+,Kg8,Rf7,Rd1+,Kxd1,Qxb1+,Ke2', 'Qxc2+,Kf1,Qc4+,Kg2,Qxf7', 'https://lichess.org/training/FFZEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fG0gB', 'Blitz', 'quantum100', 1692, 'Springerschach70', 1696, 'e4,e5,c4,Nc6,d3,Bc5,Nc3,Nf6,h3,O-O,Be3,Nd4,Qd2,c6,Be2,d5,Bxd4,Bxd4,Nf3,Bxc3,Qxc3,d4,Qd2,Qc7,O-O-O,b5,cxb5,cxb5+,Kb1,Be6,Rc1,Qd6,Rc2,a5,Rhc1,b4,Rc6,Bxa2+,Kxa2,Qd7,Nxe5,Qe7,f4,Nd7,Nxd7,Qxd7,Rc7', 'Qa4+,Kb1,b3,R1c4,Qa2+,Kc1,Qa1#', 'https://lichess.org/training/fG0gB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fG0js', 'Blitz', 'joshkeller', 1752, 'MeinlieberScholli', 1771, 'e4,e5,Nf3,d6,d4,Nd7,Bc4,h6,O-O,Ngf6,c3,Be7,Nh4,Nxe4,Nf5,Ndf6,Nxg7+,Kf8,Nh5,Bg4,Be2,Bxe2,Qxe2,Nxh5,Qxh5,Nf6,Qf3,Ke8,dxe5,dxe5,Rd1,Bd6,Nd2,Kd7,Qf5+,Ke7,Nc4,e4,Bf4,Qc8,Bxd6+,cxd6,Qb5,Rd8,Rd2,a6,Qb4,Qc5,Qxb7+,Kf8,Qb3,Rab8,Qa4,d5,Rad1,Qxc4', 'Qxc4,dxc4,Rxd8+,Rxd8,Rxd8+', 'https://lichess.org/training/fG0js');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fg19h', 'Rapid', 'Vadik10', 1934, 'valdis63', 1791, 'e4,d6,d4,Nf6,Bd3,Bg4,f3,Bh5,Be3,e6,Ne2,Be7,O-O,Nfd7,g4,Bg6,Nf4,c5,c3,Bg5,Qd2,Nc6,Ng2,Bxe3+,Qxe3,cxd4,cxd4,e5,d5,Nd4,Nc3,Nc5,f4,Nxd3,Qxd3,Qb6,Rf2,O-O,f5,a5,Ne3,h6,fxg6,fxg6,Raf1,Rf4,Rxf4,exf4,Nc4,Nf3+,Kg2,Nh4+,Kh3,Qd8,Rxf4,g5,Rf2,Qe7,Qf1,b5,Nd2,b4,Ne2,Qe5,Ng3,Qxb2,Nc4,Qc3,Nxd6,a4,Nf5,b3,Ne7+,Kh7,axb3,axb3,Qb1,Kh8,Qb2,Qe3,Re2,Qf3,Rf2', 'Ra2,Qxa2,bxa2', 'https://lichess.org/training/Fg19h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fg28q', 'Blitz', 'cristianelias71', 1699, 'yinyang07', 1923, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,O-O,Be7,Nc3,O-O,f4,c5,Qd1,Be6,Bxe6,fxe6,Qf3,Rb8,Be3,a6,Rad1,Qb6,f5,Qxb2,Bg5,exf5,Bxf6,Bxf6,Nd5,fxe4,Qxe4,Bd4+,Kh1,Rxf1+,Rxf1,Bf6,Qe6+,Kh8,Qxd6,Qe5,Qd7,Rd8', 'Qxd8+,Bxd8,Rf8#', 'https://lichess.org/training/fg28q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fg2th', 'Bullet', 'daybreak0529', 1727, 'radekh', 1663, 'd4,e6,Bf4,d5,e3,Bd6,Nf3,Nf6,Ne5,Nc6,Nd2,O-O,Bd3,Nd7,Bxh7+,Kxh7,Qh5+,Kg8,O-O-O,Ncxe5,dxe5,Be7,Nf3,f6,Nh4,Nxe5,Bxe5,fxe5,Ng6,Rf6', 'Qh8+,Kf7,Nxe5#', 'https://lichess.org/training/Fg2th');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fg3El', 'Classical', 'Tigre41', 2071, 'EvilChess', 2003, 'e4,e5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,d6,h3,h6,d4,Bd7,d5,Nce7,Bxd7+,Qxd7,c4,f5,Nc3,Nf6,Qd3,O-O,Bd2,Rf7,b4,Raf8,c5,fxe4,Nxe4,Nfxd5,cxd6,cxd6,Kh2,Rd8,Rfc1,Nf4,Qb3,Ne6,Be3,d5,Nc5,Nxc5,Bxc5,e4,Nd4,Nf5,Nxf5,Bxa1', 'Nxh6+,Kg7,Nxf7,Qxf7,Rxa1', 'https://lichess.org/training/Fg3El');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fg3Ev', 'Blitz', 'Siebente__Einsamkeit', 1853, 'Napsy', 1863, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nce2,c5,c3,Nc6,Nf4,Qb6,dxc5,Bxc5,Qf3,O-O,Nge2,d4,Nd3,Ndxe5,Nxe5,Nxe5,Qg3,Nc6,Bh6,g6,Bxf8,Kxf8,Nf4,Qxb2,Rd1,dxc3,Bd3,c2,Bxc2,Qxc2,O-O,b6,Qf3,Bb7,Nxe6+,Kg8,Qf6,fxe6,Rd7,Bd4', 'Qf7+,Kh8,Qxh7#', 'https://lichess.org/training/fg3Ev');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fG3rH', 'Rapid', 'Elio12345', 1733, 'ivangoncharov1949', 1725, 'e4,d6,Nf3,e5,d4,Qe7,dxe5,dxe5,Bd3,Bg4,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,O-O,Bd6,Nc3,a6,b3,Nc6,Bb2,Nd4,f3,c6,Ne2,Nxe2+,Bxe2,Nh5,Rfd1,Rd8,Rd2', 'Bc5+,Kf1,Rxd2', 'https://lichess.org/training/fG3rH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fg4e4', 'Classical', 'kinglemontree', 1639, 'Jctorres', 1769, 'd4,d5,Bf4,Nf6,e3,Bg4,Nf3,c6,Nbd2,e6,Be2,Nh5,Ne5,Bxe2,Qxe2,Nxf4,exf4,Qf6,O-O,Qxf4,c3,Bd6,g3,Qf6,c4,O-O,cxd5,cxd5,Ndf3,Nc6,Nd7,Qg6,Nxf8,Rxf8,Ne5', 'Nxd4,Nxg6,Nxe2+', 'https://lichess.org/training/Fg4e4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FG5rx', 'Classical', 'pranavdivakar', 1744, 'Mohmadsameh', 1728, 'e4,e5,Nc3,Bc5,Nf3,d6,Bc4,Nf6,d3,h6,h3,O-O,Be3,Bxe3,fxe3,Nc6,g4,Nh7,Qe2,a6,Bd5,Na5,Rg1,c6,Bc4,b5,Bb3,Nb7,a4,Nc5,axb5,Nxb3,cxb3,cxb5,Nxb5,Bd7,Nxd6,Bxg4,Rxg4,Qxd6,Qg2,g6,Ke2,Rad8,d4,exd4,Nxd4,Qe5,Rxa6', 'Rxd4,exd4,Qb5+', 'https://lichess.org/training/FG5rx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fg5yI', 'Blitz', 'Sobar_71', 1669, 'skaret', 1651, 'e4,c5,c4,d6,d3,Nf6,f4,e6,Be3,Be7,Qd2,Nc6,Nc3,a6,Nf3,Bd7,a3,Ng4,Be2,Nxe3,Qxe3,Bf6,O-O,O-O,e5,dxe5,fxe5,Be7,Ne4,Be8,Nxc5,Bxc5,Qxc5,Rc8,Qb4,Nd4,Nxd4,Qxd4+,Kh1,Qxe5,Bf3,Bc6,Rae1,Qd4,Be4,Bxe4,dxe4,Rxc4,Qxb7,Rc2,Rd1,Qxb2', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/Fg5yI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fg61m', 'Rapid', 'koresh8989', 1625, 'Kolyandra-2_0_1_7', 1802, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,a3,Nf6,h3,g6,Bb5,Bd7,O-O,Bg7,Be3,O-O,Qd2,a6,Bxc6,Bxc6,Bh6,Nxe4', 'Nxe4,Bxe4,Bxg7,Kxg7,Qd4+,f6,Qxe4', 'https://lichess.org/training/Fg61m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fg7TC', 'Rapid', 'hwjfirst', 1705, 'Fofo3k', 1646, 'e4,d5,exd5,c6,dxc6,Nxc6,Nf3,e5,Nc3,f6,Bc4,e4,Nxe4,Bg4,Be2,Qe7,Nc3,Bxf3,gxf3,O-O-O,d3,Nd4,Be3,Nf5,Bxa7,Nh4,Kd2,g6,Qf1,Bh6+,Be3,Bxe3+,fxe3,Nf5,e4,Nd4,Re1,f5,Kc1,fxe4,fxe4,Qg5+,Kb1,Nh6,Rg1,Qh4,Qg2,Rhf8,Bg4+,Nxg4,Qxg4+,Qxg4,Rxg4,Rf2,Rc1,Rxh2,Rgg1,Rf8,Rh1,Rff2,Rxh2,Rxh2,Nd5,Rd2,c3,Ne2,Re1,h5,d4,h4,e5,Kd8,b3,h3,Ne3,h2,Rh1,Nxc3+,Kc1,Rxd4,Kb2,Ne2,Rxh2,Rd2+,Kb1', 'Nc3+,Kc1,Rxh2', 'https://lichess.org/training/fg7TC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fG873', 'Blitz', 'GoodKnight09', 1524, 'ebasilanjr', 1528, 'd4,b6,c3,Ba6,e3,Bxf1,Kxf1,d5,Nf3,e6,g3,Bd6,Ne5,Bxe5,dxe5,Qg5,f4,Qf5,Qf3,g5,Nd2,g4,Qf2,Qd3+,Qe2,Qxe2+,Kxe2,Nc6,b4,h5,h3,f5,h4,a5,a3,a4,c4,dxc4,Nxc4,b5,Nb2,Nge7,Rd1,Nd5,Nd3,Nc3+,Kd2,Nxd1,Kxd1,Rd8,Ke2,O-O,Nc5,Kf7,Bd2,Rd5,Rc1,Rfd8,Rd1,Nb8,Nb7,R8d7,Nc5,Rd8,Nb7,Re8,Bc3,Nd7,Bd4,Rb8,Nc5,Nxc5,Bxc5,Rxd1,Kxd1,Rd8+,Ke2,c6,Bd4,Rd5,Bc5,Ke8,Bd6,Kf7,Bc5,Ke8,Bd4,Kd7,Bc5,Kc7,Bd4,Kb7,Bc5,Ka6,Bd4,Kb7,Bc5,Rxc5,bxc5,Ka6,Kd3,Ka5', 'e4,fxe4+,Kxe4,Ka6,f5', 'https://lichess.org/training/fG873');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fg9Y3', 'Rapid', 'pRanEeTHROCksTAr', 1924, 'sidhardha', 1937, 'e4,d6,d4,Nf6,Nc3,Nc6,Bc4,e6,Nf3,Be7,O-O,O-O,Bg5,h6,Bxf6,Bxf6,Qd2,a6,Rad1,Qe8,Rfe1,b5,Bb3,Na5,e5,Nxb3,axb3,dxe5,dxe5,Be7,Nd4,Bb7,Ne4,Rd8,Qf4,Bxe4,Qxe4,Rd5,c4,bxc4,bxc4,Rc5,b3,Qa8,f4,Qxe4,Rxe4,Rd8,Kf2,Kf8,Ke2,Ke8,f5,Ra5,fxe6,fxe6,Nxe6', 'Ra2+,Kf3,Rxd1', 'https://lichess.org/training/Fg9Y3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fgab9', 'Rapid', 'Alexandr2017', 1927, 'Chamerion', 1843, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Bxc6,dxc6,Nxe5,Be7,d4,O-O,Nc3,Nf5,Be3,Bd6,Qf3,Nh4,Qh5,g6,Qe2,Re8,Rad1,f6,Qc4+,Be6,d5,cxd5,Qxh4,Bxe5,Ne4,Qe7,Bc5,Qf7,Nc3,b6,Ba3,c5,f4,Bd4+,Kh1,Bxc3,bxc3,Bf5,Qf2,Re4,Rxe4,Bxe4,Re1,Re8,Kg1,f5,Bc1,Qg7,Qe3,d4,cxd4,Bc6,Qb3+,Kf8,Rxe8+,Bxe8,dxc5,Qd4+,Kf1', 'Qd1+,Kf2,Qxc1', 'https://lichess.org/training/fgab9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FgAh1', 'Rapid', 'BKKARS', 1963, 'Jgarrido', 2000, 'e4,c6,d4,d5,exd5,cxd5,Bd3,a6,Nf3,Bg4,h3,Bh5,Be3,Nf6,Nbd2,e6,O-O,Be7,c3,O-O,Qc2,Nc6,Ne5,Rc8,Ndf3,b5,a3,Nxe5,dxe5,Nd7,Bxh7+,Kh8,Bd4,Bxf3,gxf3,g6,Bxg6,fxg6,Kh2,Rf5,Rg1,Nf8,Qd2,Rh5,Rg3,Qe8,Rag1,Bh4,Rg4,Rc7,Qf4,Qf7', 'Rxh4,Qxf4+,Rxf4', 'https://lichess.org/training/FgAh1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fgaVe', 'Rapid', 'sejawas', 1700, 'NOTORIOUS20', 1699, 'e4,e5,Nf3,Nf6,Nc3,d5,exd5,Nxd5,Nxe5,Nxc3,bxc3,Nc6,Nxc6,bxc6,d4,Bd6,Bc4,Kf8,Be3,Qe7,O-O,Bf5,Qd2,Rd8,Bg5,f6,Bh4,g5,Bg3,Kg7,Rae1,Qd7,f4,h6,Rf3,c5,fxg5,Bxg3,Rxg3,hxg5,d5,Bg6,Qf2,Qd6,Re6,Qf4,Rf3,Qxh2+,Kf1,Rdf8,Qxc5,Qh1+,Kf2,Qh4+,Ke3,g4,Re7+,Bf7,Rf1,Qg5+,Ke2,Re8,Qxc7', 'Rxe7+,Qxe7,Re8,Qxe8,Bxe8', 'https://lichess.org/training/fgaVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fgBNv', 'Rapid', 'Antti_Ihalainen', 1712, 'Brontide', 1680, 'c4,e5,Nc3,Nf6,g3,c6,Bg2,d5,cxd5,cxd5,Nf3,Nc6,d3,Bc5,O-O,Bf5,Bg5,h6,Bxf6,gxf6,a3,Be6,b4,Bd6,e3,Qd7,Rb1,Ne7,b5,h5,a4,Ng6,h4,Bg4,Qb3,Bxf3,Bxf3,Qh3,Nxd5,Nxh4,Nxf6+,Ke7,Nd5+,Kf8,Bh1,e4,dxe4,Bxg3,Qb4+,Kg7,Qd4+,Kh7,Nf6+,Kg6,fxg3', 'Qxg3+,Bg2,Qxg2#', 'https://lichess.org/training/fgBNv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fgc4z', 'Blitz', 'metegol', 1638, 'omegha724', 1632, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,c3,d6,d3,O-O,Bg5,h6,Bh4,Bg4,Nbd2,Qe7,Bd5,Qd7,Bxf6,gxf6,h3,Bh5,Qe1,Kh7,Nh4,Rg8,Nf5,Bg6,Nf3,Bxf5,exf5,Rg7,Qe4,Rag8,Nh4,Ne7,Kh2,Rg5,f4,Rh5,Nf3,Rxf5,Bxf7,Rg7,Bb3,d5,Qe2,Rxf4,g3,Rf5,Nh4,Rgg5,Nxf5,Rxf5,Rxf5,Qxf5,Rf1,Qg6,d4,exd4,cxd4,Bd6,Qe6', 'Qxg3+,Kh1,Qh2#', 'https://lichess.org/training/fgc4z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fGEaZ', 'Rapid', 'giovas', 2199, 'abdullah_ali', 2182, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,Ng4,Bxf7+,Kxf7,Ng5+,Kg8,Qxg4,Bc5,c3,Qe7,cxd4,Bxd4,O-O,d6,Qf3,Nxe5,Qb3+,Nf7,Bd2,h6,Re1,Qf8,Nxf7,Bxf2+,Kxf2,Qxf7+,Qxf7+,Kxf7,Nc3,c6,Ne4,Rd8,Bf4,d5,Nd6+,Kg8,Nxc8,Raxc8,Re7,Rf8,Kg3,g5,Bd2,Rce8,Rae1,Rxe7,Rxe7,Rb8,Bc3,c5,Rg7+,Kf8,Rh7,Re8,Rxh6,d4,Bd2,Re2,Bxg5,Rxb2,Rh7,d3,Be7+,Kg8,Rh5,c4,Rd5,Kf7,Bg5,Ke6,Rc5,d2,Bxd2,Rxd2,Rxc4,Rxa2,h4,b5,Rb4,a6,h5,Ra4,Rb2,b4,Kg4,b3+,Kg5,Rb4,h6,a5', 'h7,Rb8,Rxb3', 'https://lichess.org/training/fGEaZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FgEWC', 'Rapid', 'sekhavatpor', 1968, 'CloroocladiaDentata', 2021, 'e4,c5,Bc4,Nc6,c3,e6,d4,cxd4,cxd4,Nf6,e5,Nd5,Nf3,Nb6,Bb3,d5,Be3,Be7,Nc3,Bd7,Qc2,Rc8,h4,a5,a3,a4,Ba2,Na5,Ng5,h6,Nf3,Nbc4,Qe2,b5,g4,Qc7,g5,hxg5,Bxg5,Bxg5,Nxg5,Nxb2,Qxb2', 'Qxc3+,Qxc3,Rxc3', 'https://lichess.org/training/FgEWC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fgf65', 'Rapid', 'SeKHeN', 1886, 'MapmyK', 1946, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nxc6,Qxc6,Nc3,a6,Bd3,e6,O-O,b5,a3,Bb7,f3,O-O-O,Qe2,f5,exf5,exf5,Bxf5', 'Qc5+,Be3,Qxf5', 'https://lichess.org/training/Fgf65');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fgGKJ', 'Rapid', 'QuarinSoda', 2134, 'Schachlupo', 1773, 'e4,e6,Nc3,d5,Nf3,Nf6,exd5,Nxd5,d4,Be7,Bd3,Bf6,O-O,O-O,Ne4,Nd7,c3,Be7,Qc2,N5f6,Neg5,h6,Ne4,c5,dxc5,Nxc5,Nxc5,Bxc5,Bf4,a6,Rad1,Qe7,h3,Ba7,Rfe1,b5,Be5,Bb7,Bxf6,Qxf6,Be4,Bxe4,Qxe4,Qe7,Rd2,Rfd8,Red1,Rxd2', 'Qxa8+,Qf8,Qxf8+', 'https://lichess.org/training/fgGKJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FgHB2', 'Rapid', 'fonzalf', 1757, 'Tusharkrishna', 1758, 'd4,b6,Bf4,Bb7,Nf3,g6,Nbd2,Bg7,e3,Nc6,c3,e6,Qa4,h6,Bd3,Nf6,O-O,Nh5,Bg3,Nxg3,hxg3,f5,Nc4,g5,Nfe5,h5,f4,gxf4,gxf4,h4,Ng6,Rh6,Nce5,h3,Bb5,Nxe5,Nxe5,Bxe5,dxe5,h2+,Kh1,Qh4,Bxd7+,Ke7,Bc6,Bxc6,Qxc6,Rg8,Qxc7+,Kf8,Qc8+,Kg7,Qd7+,Kh8,Qb7,Qg3,Qf3,Qh4,Qh3,Qxh3,gxh3,Rxh3,Rf2,Rg1+,Rxg1,hxg1=Q+,Kxg1,Rxe3,Kf1,Rd3,Ke2,Rg3,Kd2,Rg4,Kd3,Kg7,Kd4,Kf7,Kc4,Ke7,Kb5,Kd8,Ka6,Rg7,Rd2+,Kc8,Rd6,Rg4,Rd4,Kb8,b4,Rg2,a4,Rg3,Rc4,Rg7,Kb5,Kb7,a5', 'a6+,Ka4,b5+,Kb3,bxc4+', 'https://lichess.org/training/FgHB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fgID8', 'Rapid', 'Facundo-Madariaga17', 1772, 'DaisukeGS7', 1762, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bg5,Nc6,Nxc6,bxc6,e5,Qa5+,Nc3,Qxe5+,Be3,Bb4,Qd3,Ne4,f4,Bxc3+,bxc3,Qxc3+,Qxc3,Nxc3,Bd3,d5,O-O,O-O,Rf3,Bd7,Rg3,f5', 'Bd4,Rf7,Bxc3', 'https://lichess.org/training/fgID8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FGiQE', 'Rapid', 'leonard_gutierrez', 1854, 'mg1453', 1754, 'e4,b6,g3,Bb7,Bg2,Nf6,d3,d5,e5,Nfd7,d4,g6,Nf3,e6,O-O,Qe7,Bg5,f6,exf6,Qf7,Ne5,Nxe5,dxe5,Nc6,Bf4,O-O-O,Nc3,h6,Qe2,g5,Be3,d4,Bxc6,Bxc6,Rfd1,dxc3', 'Qa6+,Bb7,Rxd8+,Kxd8,Qxb7', 'https://lichess.org/training/FGiQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fGLDT', 'Rapid', 'NihadAjk', 1777, 'rajani007', 1775, 'e4,c5,Bc4,d6,Qf3,e6,d3,Nc6,a3,Nd4,Qd1,Nf6,c3,Nc6,Nh3,Be7,Bg5,O-O,O-O,e5,Nd2,Bxh3,gxh3,h6,Bh4,Nh7,Bg3,Bg5,Nf3,Kh8,Nxg5,Nxg5,f4,Nxh3+,Kg2,exf4,Kxh3,fxg3,hxg3,Ne5,Bd5,Qg5,d4,Ng4', 'Qxg4,Qxg4+,Kxg4', 'https://lichess.org/training/fGLDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FGM7Z', 'Blitz', 'FM Eloist', 2466, 'shevchess', 2451, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Nc6,Bd2,a6,a4,Qh5,Be2,Bg4,h3,e6,O-O,Bxh3,Ne5,Qh4,gxh3,Qxh3,Nxc6,bxc6,Bf3,Bd6,Bxc6+,Kf8,Re1,Bh2+,Kh1,Bg3+,Kg1,Qh2+,Kf1', 'Qxf2#', 'https://lichess.org/training/FGM7Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FgmPP', 'Bullet', 'sarbansafi2020', 1782, 'Rosalov', 1778, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,h6,Bxe7,Qxe7,Nf3,a6,Qd2,c5,dxc5,Nxc5,O-O-O,Nc6,Rh3,b5,Rg3,g6,Nxd5,exd5,Qxd5,Bb7,e6,fxe6,Qd2,Rd8,Qe3,Rxd1+,Kxd1,Qd6+,Kc1,Kf7,Nd2,Rd8,Qxh6,Ne5,Qh7+,Kf6,Bd3,Be4,Nxe4+,Nxe4,f3,Nf2,Rxg6+,Nxg6,Qxg6+,Ke7', 'Qg7+,Ke8,Bg6#', 'https://lichess.org/training/FgmPP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fgmx5', 'Rapid', 'ucesz', 1842, 'bacrovitch', 1857, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,dxe5,dxe5,Bb5,c6,Bc4,b5,Bb3,Bb4,Bg5,h6,Bxf6,Qxf6,Qd2,Nc5,O-O,Nxe4', 'Nxe4,Bxd2,Nxf6+,gxf6,Nxd2', 'https://lichess.org/training/fgmx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FgOO9', 'Rapid', 'Mahboub2021', 2014, 'WIYIP', 1957, 'e4,c5,Nf3,d6,Bc4,Nf6,O-O,Nxe4,Re1,Nf6,Ng5,d5,Bb5+,Bd7,Bxd7+,Nbxd7,Qe2,e6,d3,Bd6,Bd2,O-O,Nxe6,Bxh2+,Kxh2,fxe6,Qxe6+,Kh8,Nc3,Re8,Qf5,Nb6,Bg5,Qc7+,Kh1,Qf7,Bxf6,gxf6,Rxe8+,Rxe8,g3,Re5,Qf4,Rh5+,Kg2,Qe6,Rg1', 'Qh3+,Kf3,Rf5,Qxf5,Qxf5+', 'https://lichess.org/training/FgOO9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FGRd2', 'Rapid', 'MidasBio', 1848, 'Refael1965', 1895, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,O-O,O-O,c5,Nf3,a6,a4,Bd7,Re1,Nc6,Nd5,Bg4,Qd3,Bxf3,Qxf3,Ne5,Qc3,Nfg4,h3,Nf6,Bb3,Nxd5,Bxd5,Rb8,Qg3,Bf6,c3,b5,axb5,axb5,Bf4,b4,Ra7,bxc3,bxc3,Qb6,Rea1,Qb2,c4,Rb3,Be3,g6,Qf4,Bg7,Rxf7,Nxf7,Bxf7+,Rxf7,Ra8+,Bf8,Qxd6,Rxe3,fxe3,Qc1+,Kh2,Qxe3,e5,Qf4+,Kh1,Qxc4,e6,Rf1+,Kh2,Qf4+', 'Qxf4,Rxf4,e7,Rf7,e8=Q', 'https://lichess.org/training/FGRd2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FgrHM', 'Rapid', 'dan815', 1677, 'topolyok', 1849, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,d4,Nxe4,Re1,d5,Nxe5,dxc4,Rxe4,O-O,Nxc4,Bf5,Rf4,Be6,Ne5,Bd6,Re4,Bf5,Re1,Bxe5,Rxe5,Bg6,c3,Nc6,Re2,Bh5,f3,Ne7,Qe1,Nd5,c4,Nb6,c5,Qxd4+,Be3,Qf6,cxb6,axb6,Nc3,Qg6,Kh1,h6,Qg3,Qxg3,hxg3,Rfe8,Ne4,f5,Nc3,Re6,Bf4,Rc6,Re7,Rc8,Be5,Bf7,Rd1,Kf8,Rdd7,Be8,Bxg7+,Kg8,Rd5,Bf7,Rxf5,Bg6,Rfe5,Bf7,g4,Kxg7,g5,hxg5,Rxg5+,Rg6,Rxg6+,Kxg6,a3,Kf6,Re4,Rd8,Rf4+,Kg6,Ne4,Rd4,Rf6+,Kg7,g4,Rxe4', 'Rxf7+,Kxf7,fxe4', 'https://lichess.org/training/FgrHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fgSeH', 'Rapid', 'Silvia25', 1781, 'K23K32', 1782, 'e4,e5,Bc4,Nc6,Nf3,Bc5,d3,h6,c3,d6,b4,Bb6,a4,a6,a5,Ba7,Be3,Bxe3,fxe3,Qg5,Qe2,Qe7,O-O,Be6,Nbd2,Bxc4,Nxc4,Nf6,h3,d5,exd5,Nxd5,Rac1,O-O,g3,e4,Nh4,g6,d4,Kg7,Qg4,h5', 'Nf5+,Kh7,Nxe7,hxg4,Nxd5', 'https://lichess.org/training/fgSeH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fgt8g', 'Rapid', 'Pr1yansh', 1616, 'albogolf', 1609, 'e4,c5,c3,a6,d4,e6,Nf3,b5,a3,c4,a4,Qa5,Bf4,Nc6,Nbd2,b4,Bxc4,bxc3,Nb3,Qb4,Rc1,cxb2+,Bd2,Qxa4,Rb1,Qxc4,Rxb2,Ba3,Ra2,Bb4,Bxb4,Nxb4,Nfd2,Nd3+,Kf1,Nb2+,Nxc4,Nxd1,Rc2,Rb8,Nc5,Rb1,Nd6+,Ke7,Nxc8+,Kf6,e5+,Kf5,Nd6+,Kg6,Rd2,Nxf2+,Kxf2,Rxh1,Rd3,h5,Rg3+,Kh6,Nxf7+,Kh7,Rh3,g6,Nxh8,Kxh8,Nxd7,Nh6,Nf8,Kg7,Nxe6+,Kg8,d5,Ng4+,Kg3,Nxe5,d6,Ra1,Nc5,Ra3+,Kh4,Ra1,d7,Rd1,Rd3,Rxd3,Nxd3,Nxd7,Kg5,Kg7,Nb4,a5,Nc6,a4,Nd4,a3,Nb3,Ne5,Kf4,Nd3+,Ke3,Nb4,Kd2,a2,Kc1,Nd3+,Kc2,Nb4+,Kb2,Kf6,Nc1,Kf5,Nxa2,Nxa2,Kxa2,Kf4,Kb3,Ke3,Kc4,g5,Kd5,g4,Ke5,h4,Kf5,Kf2', 'Kxg4,Kxg2,h3,Kf2,Kxh4', 'https://lichess.org/training/Fgt8g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FGTDU', 'Classical', 'julien11', 1655, 'Max_Jordan', 1624, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Bf5,d4,Nc6,Nf3,f6,a3,e5,Ba4,Bd6,dxe5,fxe5,Qxd5', 'Bb4+,axb4,Qxd5', 'https://lichess.org/training/FGTDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fgv0w', 'Rapid', 'victogomezzorrilla', 1936, 'pumping707', 1834, 'e4,e6,Qe2,Nc6,c3,a6,g3,Nf6,Bg2,e5,Nf3,d6,O-O,Bg4,d3,Be7,Be3,O-O,Nbd2,Qc8,Rfe1,Bh3,Bh1,Ng4,Ng5,Bxg5,Bxg5,h6,Be3,Ne7,f3,Nxe3,Qxe3,Bd7,d4,Ng6,f4,exf4,gxf4,Bh3,f5,Bxf5,exf5,Qxf5,Rf1,Qh5,Qg3,Rab8,Bf3,Qb5,b3,Rbe8,c4,Qb4,Ne4,Ne7,Nf6+,Kh8,Nxe8,Rxe8,Bh5,g6,Rxf7,Nf5,Qxg6', 'Re1+,Rxe1,Qxe1+,Kg2,Nh4+,Kh3,Nxg6', 'https://lichess.org/training/Fgv0w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fgv60', 'Blitz', 'ahmeddrwish90', 1717, 'jumpofknight', 1696, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,a6,Nxc6,bxc6,Bc4,d5,exd5,cxd5,Bb3,Nf6,O-O,Bc5,Bg5,O-O,Qf3,Be7,h3,h6,Bxf6,Bxf6,Ne2,Bd7,c3,Bb5,a4,Bc4,Bxc4,dxc4,Rad1,Qc7,Nf4,Rab8,Nh5,Bg5,h4,Bxh4,Qg4,Bg5,Kh1,Rxb2,f4,f5,Qg3,Bf6,Nxf6+,Rxf6,Rb1,Rxb1,Rxb1,Rf8,Qf3,Rb8,Rxb8+,Qxb8,Qe2,Kf7,Qxc4,Qxf4,Qxa6,Qc1+,Kh2,Qxc3,Qa7+,Kf6,a5,e5,Qb6+,Kf7,a6,e4,a7,Qe5+,Kh1,Qa1+,Kh2,Qe5+,Kh3,g5,a8=Q', 'g4+,Kh4,Qh2#', 'https://lichess.org/training/Fgv60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FgVFh', 'Classical', 'Xylean', 1675, 'jnet', 1693, 'e4,d6,d4,e6,c4,Bd7,d5,e5,Nc3,h6,Be2,g5,Be3,g4,Bxg4,Bxg4,Qxg4,h5,Qd1,Qf6,Nf3,Bh6,O-O,Nd7,Nb5,O-O-O,Nxa7+,Kb8,Qa4,Bxe3,fxe3,Nb6,Qc2,Kxa7,b4,Kb8,a4,Qh6,Rae1,Nf6,c5,dxc5,bxc5,Na8,Nxe5,Rhf8,Qb1,Rde8,c6,b6,Nd7+,Nxd7,cxd7,Rd8,Qb5,Qd6,a5,Rxd7,axb6,Nxb6,Rb1,Qe5,Qxd7,Qxe4,d6,Qxe3+,Kh1,Qc5,Rfc1', 'Qxc1+,Rxc1,Nxd7', 'https://lichess.org/training/FgVFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FGvsb', 'Blitz', 'Arasay', 1803, 'ANDERSON2000', 1828, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,c3,e5,Nb3,Bc5,Nxc5,Qxc5,Be3,Qe7,Nd2,d6,Nc4,Be6,Nxd6+,Kf8,Nf5,Bxf5,exf5,Rd8,Qb3,Nf6,Bb5,Nd5,Bxc6,Nxe3,fxe3,bxc6,O-O,g6,fxg6,hxg6,Rf2,Kg7,Raf1,f5,e4,f4,Kh1,Rxh2+,Kxh2,Rh8+,Kg1,Qh4,Qb7+,Kg8,Qc8+,Kf7,Qd7+,Kf6,Qxc6+,Kg5,Rxf4,Qh2+,Kf2,Qxf4+,Ke1,Qc1+,Kf2,Qf4+,Kg1,Qe3+,Rf2,Qe1+,Rf1,Rh1+,Kxh1,Qxf1+,Kh2,Qf4+,Kg1,Qe3+,Kh2,Qf4+,Kg1,Qe3+,Kf1,Qc1+,Kf2,Qxb2+,Kg3,Qd2,Qe6', 'Qf4+,Kh3,Qh4#', 'https://lichess.org/training/FGvsb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FGWKS', 'Rapid', 'Hovhannes1982', 1993, 'PESESILLO', 1892, 'd4,d6,c4,g6,Nc3,Bg7,Nf3,Nf6,Bg5,O-O,e4,Nbd7,Bd3,e5,d5,a5,O-O,Nc5,Bc2,Bg4,h3,Bd7,Be3,Ne8,Nd2,f5,f4,fxe4,Ndxe4,exf4,Bxf4,Nxe4,Bxe4,Nf6,Bg5,Qe8,Bd3,Nh5,Qc2,Ng3,Rxf8+,Qxf8,Ne4,Bd4+,Kh2,Nxe4,Bxe4,Be5+,Kh1,Re8,Re1,Qf7,c5,Rf8,Bd3,Qf2,Rf1,Qg3,Rxf8+,Kxf8,Kg1,Bd4+,Kf1,Bxh3,Bh6+,Kg8,Be4,Bg4,cxd6,Qh2,Ke1,Qg1+,Kd2,Qf2+,Kd3,Qf1+,Kxd4,Qf6+,Kc4,Qf1+,Bd3,Qf7,dxc7,Qxc7+,Kb3', 'Qb6+,Bb5,Qxb5+', 'https://lichess.org/training/FGWKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FgXor', 'Rapid', 'Nicole-toyty', 1657, 'GermanSaravia', 1905, 'e4,c5,Bc4,e6,Nc3,Nf6,d3,Be7,Be3,d5,exd5,exd5,Bb5+,Bd7,Bf4,O-O,Nf3,d4,Bxd7,Qxd7,Ne4,Nxe4,dxe4,Nc6,O-O,Qg4,Bg3,Qxe4,Re1,Qd5,Ne5,Nxe5,Rxe5,Qd7,Qf3,Bd6', 'Rd5,Rfd8,Rxd6', 'https://lichess.org/training/FgXor');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FGxZ7', 'Rapid', 'gbfischer', 1725, 'alex1970ru', 1611, 'e4,e5,Nf3,d6,Bc4,Nc6,Nc3,a6,a3,b5,Bd5,Bb7,d4,Nf6,dxe5,Nxd5,exd5,Nxe5,O-O,Be7,Re1,O-O,b3,Ng6,Ne4,h6,c4,Bc8,Nd4,Bf6,Nc6,Qd7,Nxf6+,gxf6,Bxh6,Re8,Qf3,Kh7,Qh5,Kg8,h3,Ne5,Qh4,Qf5,Re3,Bd7,Nd4,Ng6,Rg3,Qe5,Re3,Nxh4,Rxe5,fxe5,Nc2,Kh7,Bg5,Nf5,Re1,Rg8,Bd2,Nh4,Ne3,Nf3+,Kh1,Nxe1,Bxe1,f5,f3,f4,Nd1,Rg6,g4,Rh8,Nf2,Kg7,Kh2,bxc4,bxc4,Ba4,Ba5,c6,dxc6,Bxc6,Kg2,d5,c5,e4,fxe4,Kf7,exd5,Bxd5+,Kh2,Re6,g5,Re2,Kg1,Rg8,Kf1,f3,h4,Kg6,Ng4,Ra2,Nf6,Bc4+,Kg1,Rd8,Bxd8,Rxa3,c6,Rd3,c7,Be6,h5+,Kf7,Nd7,Bxd7,g6+,Kg8,h6,Bc8', 'h7+,Kg7,Bf6+,Kxg6,h8=Q', 'https://lichess.org/training/FGxZ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fgZO9', 'Classical', 'SanMao', 1811, 'Aboelfutooh', 1702, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Nc3,Bg7,Bd2,Bb7,Bd3,Rb8,O-O,d6,Re1,Qc7,Qc1,d5,exd5,cxd5,Bb5+,Bc6,Bxc6+,Qxc6,Bf4,Rb7,Be5,f6,Bd4,e5,Be3,Ne7,Bh6,O-O,Bxg7,Kxg7,Ne2,Rfb8,b3,f5,Qb2,d4,Nxd4,exd4,Qxd4+,Qf6,Qe3,Re8,Qf3,Rc7,c4,Rd8,h3,Nc6,Qg3,Rdd7,Rad1,Rxd1', 'Qxc7+,Qf7,Qxf7+,Kxf7,Rxd1', 'https://lichess.org/training/fgZO9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FGzX5', 'Blitz', 'Galaxy_Master', 1938, 'belim169', 1925, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Ng5,h6,N5f3,Bg4,c3,e6,Bd3,Bd6,h3,Bxf3,Nxf3,Nbd7,Be3,Rc8,Qd2,Nd5,O-O,Qc7,Rad1,Nxe3,fxe3,O-O,e4,Bf4,Qe2,Qd8,e5,Bg5,Qe4,g6,h4,Be7,h5,Kg7,hxg6,f5,exf6+,Rxf6,Ne5,Rxf1+,Rxf1,Nxe5,dxe5,Bc5+,Kh1,Qg5,Rf7+,Kg8,Rf3,Rd8,g7', 'Qh5+,Rh3,Qd1+,Bf1,Qxf1+', 'https://lichess.org/training/FGzX5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fh0AN', 'Rapid', 'abuabdulaziz', 2036, 'DaBoon', 2069, 'd4,d5,e4,e6,exd5,exd5,Nc3,Bb4,Bd2,c6,h3,Nf6,Bd3,O-O,Nge2,Re8,O-O,Qd6,Ng3,c5,a3,Ba5,dxc5,Qd8,Bg5,Nc6,Nxd5,Qxd5,Bxf6,Qxc5,b4,Qf8,bxa5,gxf6,Qh5,Qg7,Nf5,Bxf5,Bxf5,Nd4,Bd3,Re5,Qh4', 'Nf3+,Kh1,Nxh4', 'https://lichess.org/training/fh0AN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fh0K1', 'Rapid', 'tamazi159', 1727, 'wertstoffhof', 1858, 'e4,f5,Nc3,Nf6,d3,fxe4,Nxe4,Nxe4,dxe4,d6,Bc4,Nc6,Nf3,Bg4,h3,Ne5,Nxe5,Bxd1', 'Bf7#', 'https://lichess.org/training/fh0K1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fH7FN', 'Rapid', 'merkan', 1610, 'eyman', 1825, 'e4,a6,d4,b5,Bd3,Bb7,Nd2,Nf6,Ngf3,e6,Qe2,c5,d5,Be7,e5,Nxd5,Ne4,c4,Nd6+,Bxd6,Be4,Bb4+,c3,Nxc3,bxc3,Bxc3+,Bd2,Bxa1,Bxb7,Ra7,Be4,Nc6,O-O,Bxe5,Nxe5,Nxe5,Be3,Nc6,Bxa7,Nxa7,Qe3,Nc6,Rd1,Qc7,Qf3,d5,Bc2,O-O,Qh3,g6,f4,Qxf4,Rf1,Qd4+,Kh1,Nb4,Bb1,Qb2,Qh6,Re8,Bxg6,fxg6,Qf4,Qg7,a3,Nd3,Qd6,c3,Qxa6,c2,Qxb5,c1=Q', 'Qxe8+,Qf8,Qxf8#', 'https://lichess.org/training/fH7FN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FhAUD', 'Rapid', 'samuraichess007', 1751, 'Cicciobbello', 1738, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d3,h6,Nc3,d6,Be3,Nd4,Ne2,Nxf3+,gxf3,Bb6,Kh1,O-O,Qd2,Bxe3,Qxe3,Be6,Rg1,Kh7,Ng3,d5,exd5,Nxd5,Bxd5,Bxd5,Nf5,Rg8', 'Rxg7+,Rxg7,Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/FhAUD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHBuh', 'Rapid', 'Dede_Donas', 1726, 'freilejon', 1838, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Be7,O-O,O-O,c4,Bg4,c5,b6,b4,Nc6,Bd2,Nxd4,cxb6,axb6,a3,Re8,Be2,Bd6', 'Nxd4,Bxe2,Nxe2', 'https://lichess.org/training/FHBuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FhcEA', 'Classical', 'lovethisgame', 1651, 'ayaangarg', 1626, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Nh4,Ngf6,Nxg6,hxg6,Be2,e5,dxe5,Nxe5,Qxd8+,Rxd8,Bg5,Be7,O-O,O-O,f4,Ned7,f5,gxf5,Nxf5,Bc5+,Kh1,Rfe8,Bd3,Ne5,Bxf6,gxf6,Rad1,Nxd3,Rxd3,Rxd3,cxd3,Bf2,h3,Re1,Rxe1,Bxe1,g4,Bd2,Nd6,b5,h4,Bc1,b3,Kg7,Kg2,Kg6,Kf3,a5,Nb7,a4,bxa4,bxa4,Nc5,a3,Nb3,Bh6,Nd4,c5,Nf5,Bg7,Nxg7,Kxg7,Ke4,Kg6,Kd5,f5,gxf5+,Kxf5,Kxc5,Kg4,Kd5,f5,h5', 'Kxh5,Ke5,Kg4,d4,f4,d5,f3,d6,f2,d7,f1=Q', 'https://lichess.org/training/FhcEA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fhcjO', 'Rapid', 'wael-Abohameed', 2003, 'sallam92', 1858, 'e4,d5,e5,Bf5,d4,e6,c4,c5,cxd5,exd5,Nf3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,Qb6,Nc3,cxd4,Nxd4,Bg6,e6,Nf6,exf7+,Kxf7,Re1,Bd6,b3,Rhe8,Be3,c5,Nf3,d4,Na4,Qc6,Bg5,Ne4,Bh4,Bh5', 'Ng5+,Nxg5,Qxh5+', 'https://lichess.org/training/fhcjO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHcUt', 'Rapid', 'YuVe', 1759, 'MrbOOgieman', 1614, 'd4,c5,dxc5,Qa5+,Nc3,Qxc5,e4,a6,Nf3,Nc6,Be3,Qb4,Rb1,e6,Bd3,d5,a3,Qd6,exd5,exd5,O-O,d4,Ne4,Qd5,Bf4,f6,Re1,Be7,b3,g5,Bc4,Qd8,Bg3,h5,Bd6,Kf8,Bxg8,Rxg8,Bxe7+,Nxe7,Qxd4,Qxd4,Nxd4,f5,Nc3,b5,Re5,Bb7,Rbe1,Rg7,Nxf5,Nxf5,Rxf5+,Kg8,f3,Rd8,Rd1,Rxd1+,Nxd1,Kh7,Kf2,Kg6,Re5,g4,fxg4,hxg4,Ne3,Kf6,Rc5,Rg6,g3,Bf3,Rf5+,Ke6,a4,bxa4,bxa4,Kd6,Ra5,Kc7,c3,Rd6,Rg5,Rd2+,Ke1', 'Re2+,Kf1,Rxe3', 'https://lichess.org/training/FHcUt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHdAD', 'Rapid', 'campeaodoscampeoes', 1999, 'azhariaja', 1888, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,Bb5,Nf6,c4,a6,Ba4,b5,cxb5,axb5,Bxb5,Qa5+,Nc3,Bb4,Bd3,O-O,O-O,e5,Qc4', 'Ba6,Qb3,Bxd3', 'https://lichess.org/training/FHdAD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fHDCk', 'Rapid', 'excel', 1876, 'iltagliano', 1798, 'e4,b6,a4,Bb7,a5,Bxe4,d3,Bg6,axb6,cxb6,b4,e6,b5,Bc5,Bb2,Nf6,Qf3,d5,c4,Bh5,Qg3,Ng4,d4,Bb4+,Bc3,Qg5,f4,Bxc3+,Nxc3,Qe7,cxd5,exd5+,Nge2,Ne3,Qxg7,Nc2+,Kd1,Rf8,Kd2,Bg6,Rc1', 'Qe3+,Kd1,Qd3#', 'https://lichess.org/training/fHDCk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fhDec', 'Rapid', 'BogPriseda', 1927, 'ProfofElm', 1930, 'd4,d5,Bf4,Bf5,Nc3,e6,Nf3,Bd6,Bg5,f6,Bh4,Ne7,e3,h5,h3,g5,Bg3,Bxg3,fxg3,Qd6,Ne2,a6,Nd2,Nbc6,c3,e5,Qb3,O-O-O,O-O-O,Bg6,Nf3,Nf5,dxe5,Nxe5,e4,Ne3,Rd4,c5,Ra4,dxe4,Nxe5,Qd1+,Qxd1', 'Rxd1#', 'https://lichess.org/training/fhDec');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fHDhN', 'Classical', 'TheBrose', 1644, 'radar111', 1747, 'e4,Nc6,Nc3,e5,Nf3,f5,Bc4,Nf6,d3,f4,b3,d6,Bb2,Na5,Nd5,Nxc4,Nxf6+,Qxf6,bxc4,Bg4,O-O,O-O-O,d4,h5,dxe5,dxe5,Bxe5,Qe7,Qc1,Bxf3,Qxf4,Be2,Rfe1,Bxc4,Bb2,h4,h3,Rg8,Qf3,Qe6,Qe3,Kb8,Qg5,Be7,Qe5,g5,Qxe6,Bxe6,Red1,Rxd1+,Rxd1,g4,Kh2,g3+,fxg3,Rxg3,Ba3,Bf6,Bb2,Be7,Ba3,c5,Bb2,b6,Be5+,Kb7,Bxg3,hxg3+,Kxg3,Ka6,Rh1,Bxa2,h4,Bg8,h5,Bh7,h6,Bf6,Rf1,Be5+,Kg4,Bxe4', 'Re1,Bxc2,Rxe5', 'https://lichess.org/training/fHDhN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fhf71', 'Blitz', 'gijonrojo', 1636, 'lando_al11', 1671, 'e4,c5,f4,d6,Nf3,Nf6,Nc3,Nc6,Be2,g6,O-O,Bg7,Kh1,O-O,d3,Bg4,Ne1,Bxe2,Nxe2,e5,f5,Nd4,Nf3,Rc8,c3,Nc6,Bg5,Qb6,Qd2,Rfe8,Bh6,Bh8,fxg6,fxg6,Ng5,Qd8,Nh3,Nd4,Nxd4,cxd4,Rf3,Nh5,Raf1,Bf6,c4,Ng7,Rxf6,Rf8,Qg5,Rxf6,Rxf6,Qa5,Rxd6,Rf8,Qe7', 'Rf1+,Ng1,Rxg1+,Kxg1,Qe1#', 'https://lichess.org/training/Fhf71');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FhFYD', 'Rapid', 'pugo', 1782, 'Djomlica1', 1692, 'e4,Nc6,Nf3,e6,Bb5,d5,Bxc6+,bxc6,e5,Ba6,d4,Ne7,Bg5,h6,Bh4,Qd7,Nbd2,Rb8,b3,Nf5,Bg3,Nxg3,hxg3,Bb4,Rc1,Qe7,c3,Ba5,a3,Bb6,b4,Bd3,c4,dxc4,Nxc4,Bxc4,Rxc4,Rd8,Rxc6,O-O,Qd3,f6,exf6,Qxf6,Rc4,e5,g4,e4,Qb3,Kh7,g5,Qe6,gxh6,exf3+,Kf1,fxg2+,Kxg2,Qe4+,Kf1,Rxf2+,Kxf2,Rf8+,Kg1,Qe1+,Kg2,Qf2+,Kh3,Qf5+,Kh2,Qf4+,Qg3,Qd2+,Qg2', 'Rf2,Qxf2,Qxf2+', 'https://lichess.org/training/FhFYD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fhgcu', 'Classical', 'DeciTaraboste', 1737, 'Dimsmi', 1712, 'c4,c5,Nc3,Nc6,g3,Nf6,Bg2,e6,a3,Rb8,Rb1,a6,b4,cxb4,axb4,Nxb4,d3,Be7,Bf4,Ra8,Qa4,Nc6,Be3,Qc7,Nb5,Qa5+', 'Qxa5,Nxa5,Nc7+', 'https://lichess.org/training/fhgcu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fHgd2', 'Rapid', 'sam6789', 1911, 'za3', 1983, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Bc5,exf6,Qxf6,Nf3,O-O,d4,Re8+,Be2,Bb6,O-O,d6,Nd5,Qe6,Nxf4,Qe7,c3,c5,Bb5,Nc6,Re1,Qf8,Rxe8,Qxe8,Qe2,Bg4,Qxe8+,Rxe8,Nd5,Bd8,Bf4,a6,Bf1,Re6,Re1,Bxf3,gxf3,Rxe1,Bxd6,cxd4,cxd4,Nxd4,Kf2,Nxf3,Bg2,Rb1,Kxf3,Rxb2,Nc3,Bf6,Ne4,Bd8,a3,f5,Ng5,Bxg5,Bh3,g6,Bf1,Rb3+,Kg2,Rb2+,Kf3,Kg7,Be5+,Bf6,Bxb2,Bxb2,a4,Kf6,Ke3,Ke5,Bg2,b6,Bb7,a5,Bc6,g5,h3,h5,Kf3,Bc1,Be8,g4+,hxg4,hxg4+,Kg3,Bg5,Bc6,Be7,Bd7,Bb4,Bc6,Be1+,Kg2,f4,Bd7,f3+,Kf1,Kf4,Kxe1,g3,Kf1,Ke3,Bb5,Kd2,Bc6,Ke3,Bb5,g2+,Kg1,Kf4,Kf2,Ke4,Bc6+,Kf4,Bb5,Kg4,Bd7+,Kh4', 'Bc6,g1=Q+,Kxg1', 'https://lichess.org/training/fHgd2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHgsd', 'Rapid', 'Javan1345', 1973, 'Zeus17R', 1927, 'e4,c5,Nf3,e6,Nc3,a6,a3,Qc7,Bc4,b5,Ba2,Bb7,d3,Nc6,O-O,Nf6,Bg5,Be7,Bh4,O-O,Bg3,d6,Re1,Nd7,d4,cxd4,Nxd4,Rac8,Nxc6,Qxc6,Qg4,Nf6,Qf3,Qb6,Rad1,Rfd8,h3,b4,axb4,Qxb4,Bb3,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Rxd5,Rxd5', 'Qxe1+,Kh2,exd5', 'https://lichess.org/training/FHgsd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHiG4', 'Rapid', 'syimykKG', 1667, 'numain', 1606, 'd4,Nf6,Bf4,d6,e3,g6,Nf3,Bg7,c3,O-O,Bd3,Nbd7,Nbd2,Nh5,Bg3,Nxg3,hxg3,e5,Qc2,exd4,exd4,Re8+,Be2,c5,Qd3,cxd4,Nxd4,Bxd4,Qxd4,Nc5,O-O-O,Rxe2,Rxh7,f6,Rdh1,Re1+,Rxe1,Kxh7,Rh1+,Kg7,Qh4,Qg8,Nc4,Nd3+,Kc2,Bf5', 'Qh6+,Kf7,Nxd6+,Ke7,Nxf5+', 'https://lichess.org/training/FHiG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fHIQf', 'Classical', 'Dinklesworth', 1628, 'RiteshGadave', 1621, 'e4,c5,d4,cxd4,Nf3,Nc6,c3,dxc3,Nxc3,e5,Bc4,Nf6,Ng5,d5,exd5,h6,Nge4,Nxe4,Nxe4,Bb4+,Bd2,Bxd2+,Qxd2,Nd4,O-O,O-O,f4,Qb6,fxe5', 'Nf3+,Kh1,Nxd2', 'https://lichess.org/training/fHIQf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHIVa', 'Rapid', 'Franz1969', 1612, 'docplux', 1677, 'd4,d5,c4,dxc4,e3,Bf5,Bxc4,e6,Qb3,b6,Bb5+,c6,Bd3,Bxd3,Qxd3,Bb4+,Bd2,Bxd2+,Nxd2,Nf6,Ngf3,O-O,h4,c5,Ng5,cxd4,exd4,h6,Nge4,Re8,Qf3,Qxd4', 'Nxf6+,Qxf6,Qxa8', 'https://lichess.org/training/FHIVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHNd5', 'Rapid', 'RuthLoveRyan', 1918, 'ahmedkhater', 2022, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,h6,Nf3,e4,Nh4,g5,d3,gxh4,Nc3,exd3,Bxd3,Qe7+,Be3,Ng4,Qd2,Nxe3,fxe3,Bg7,O-O,O-O,Ne4,Nb7,Qf2,Be6,Nf6+,Bxf6,Qxf6,Qxf6,Rxf6,Kg7,Raf1,Nc5,Be2,Ne4,R6f4,Ng5,Rxh4,Rad8,Bd3,c5,b3,Rfe8,Ra4,Re7,h4,Nh7,Ra5,Rc8,Rf4,Rcc7,Kf2,Bd5,Rf5,Be4,Bxe4,Rxe4,Rfxc5,Rxc5,Rxc5,Re7,c4,Nf6,Kf3,Ne8,a4,Kf6,Kf4,Rb7,Rc6+,Kg7,Ra6,Nc7,Ra5,Ne6+,Ke5,Rxb3,Rxa7,Rxe3+,Kd5,Rd3+,Kc6,Rc3,Kd5,Nf4+,Kd4,Rc1,g4,Ne6+,Kd5,Kf6,a5,Rd1+,Kc6,Rc1,Kd5,Rd1+,Kc6,Ke5,Rxf7', 'Nd8+,Kc7,Nxf7', 'https://lichess.org/training/FHNd5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fHnEW', 'Rapid', 'MMB2603', 1712, 'jcos1964', 1775, 'd4,d5,c4,dxc4,e4,Nc6,Nf3,Na5,Qa4+,c6,Bd2,b6,Bxa5,bxa5,Qxc6+,Bd7,Qxc4,Nf6,Nc3,e6,a3,Rc8,Qa6,Qb6,h3', 'Qxb2,Qxc8+,Bxc8', 'https://lichess.org/training/fHnEW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHOf5', 'Classical', 'Szach_Mateusz', 1664, 'victorcoolworld', 1603, 'd4,g6,c4,Bg7,Nf3,d6,b4,Bf5,Nc3,Nf6,Bf4,Ne4,Qb3,Nxc3,Qxc3,h6,e3,Bd7,Bd3,Bf5,e4,Bd7,O-O,g5,Bg3,Bf6,h3,h5,e5,dxe5,Nxe5,Bxe5,Bxe5,f6,Bg6+,Kf8,Bh2,g4,h4,f5,Be5,Rh6,Bxf5,Bxf5,d5,e6,Bg7+,Kg8,Bxh6,Qe7,Rfe1,Kh7,Bg5,Qf7,Re3,Na6,Rae1,Re8,R1e2,Qg6,Qe1,c5,dxe6,Nxb4,f3,Nd3,Qg3,gxf3,Rd2,fxg2,Rdxd3,Bxe6,Qc7+,Kg8,Qxc5,Qf7,Rg3', 'Qf1+,Kh2,Qh1#', 'https://lichess.org/training/FHOf5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fhOw9', 'Blitz', 'Oguzhancal20', 1585, 'e4c5Cf3', 1559, 'd4,d5,c4,e5,Nf3,e4,Ne5,dxc4,e3,Nc6,Nxc6,bxc6,Bxc4,Nf6,Qa4,Bd7,Qb3,Nd5,O-O,Be6,Qa4,Qd7,Nc3,Nxc3,bxc3,Bxc4,Qxc4,Bd6,d5,cxd5,Qxd5,O-O,Qxe4,Rfe8,Qc4,a5,Rb1,Qe6,Qxe6,Rxe6,f4,Bc5,Rf3,f5,Kf2,c6,Rb7,Re4,Rg3,g6,Rh3,h5,Rg3,Re6,Bb2,Rae8,c4,Bxe3+,Kf3,Bg1,Rg7+', 'Kf8,Be5,Rxe5,fxe5,Kxg7', 'https://lichess.org/training/fhOw9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fhqgu', 'Bullet', 'CM jah_skido', 1980, 'uncle74', 1954, 'e4,d6,d4,Nf6,Bd3,Nbd7,c4,e5,d5,c5,Ne2,g6,f3,Bg7,Be3,O-O,Qd2,a6,Nbc3,Rb8,a4,Ne8,a5,f5,Bh6', 'Qh4+,g3,Qxh6,Qxh6,Bxh6', 'https://lichess.org/training/Fhqgu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fhQjg', 'Rapid', 'ibbsdb', 1651, 'Elio12345', 1690, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,Nd7,d3,Be7,Nf3,O-O,O-O,Bc5,a3,Nb7,Be3,f6,Bxc5,Ndxc5,b4,Ne6,Re1,Nd6,Nc3,c5,Ne4,Qb6,bxc5,Nxc5,Nxc5,Qxc5,Qd2,e4,Qb4,Qxb4,axb4,exf3,Bxf3,Bb7,Bxb7,Nxb7,Re7,Nd6,Rd7,Nb5,Re1,Rfe8,Rxe8+,Rxe8,h3,Ra8,Kf1,a5,bxa5,Rxa5,Ke2,Nc3+,Kd2,Nb1+,Kc1,Nc3,Kd2,Nb5,Rd5,Kf7,c4,Ra2+,Ke3,Nc3,Rh5,h6,Kd4,Ne2+,Ke3,Nc3,Kd4,Nd1,Rd5,Nxf2,c5,Rd2,c6,Rxd3+,Kc5,Ne4+,Kc4,Rc3+,Kd4,Rxc6,Kxe4,Ke6,Rd3,Rc2,g4,Rg2,Kf4,g5+,Kf3,Rg1,Re3+,Kd5,Kf2,Ra1,Kg3,Rg1+,Kf2,Ra1,Kg3,Ra4,Re8,Kd6,Rh8,f5,Rxh6+,Ke5,gxf5,Kxf5,h4,Ra3+,Kg2,g4,Rh8,Kf4,Rg8,g3,h5,Ra2+,Kg1,Kf3,h6,g2,h7', 'Ra1+,Kh2,Rh1#', 'https://lichess.org/training/fhQjg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHRcx', 'Blitz', 'Akaihige', 1594, 'ShingekiShuriken', 1636, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,O-O,Bd6,h3,O-O,d4,exd4,Qxd4,c5,Qc3,Nxe4,Qe3,Re8,Re1,Nf6,Qd3,Rxe1+,Nxe1,Qe7,Bd2,Ne4,Nc3,Nxd2,Qxd2,Qe5,g3,Bxh3,Nf3,Qf5,Qe2,Bg4,Kg2,Kf8,Re1,Bxf3+,Qxf3,Qxc2,Qxb7,Re8', 'Rxe8+,Kxe8,Qc8+,Ke7,Nd5#', 'https://lichess.org/training/FHRcx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FhShO', 'Blitz', 'aalov', 1799, 'Morozmoroz', 1781, 'c4,e6,Nc3,Nf6,e3,d5,Nf3,Be7,d4,O-O,cxd5,Nxd5,Be2,b6,O-O,Bb7,a3,Nd7,Nxd5,Bxd5,b4,Rc8,Bb2,c5,Ba6,Rc7,dxc5,bxc5,Ne5,cxb4,Nxd7,Qxd7,Qg4,f6,axb4,Rb8,Bd3,Rxb4,Qh5,f5,Be5,Rcb7,Qh3,Bf6,Bxf6,gxf6,Qg3+,Qg7,Qxg7+,Kxg7,Rfc1,Rb2,Ba6,R7b6,f3,Rd2,Bc8,Rbb2,Rxa7+,Kg6,Rcc7,Rxg2+,Kf1,Rxh2,Rg7+,Kh6', 'Rxh7+,Kg5,Rag7#', 'https://lichess.org/training/FhShO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fhSrK', 'Rapid', 'Umutburazmen', 1799, 'Shajahanv3', 1893, 'e4,e5,Nf3,Nc6,Bb5,Qf6,c3,Bc5,d4,exd4,Bxc6,Qxc6,cxd4,Qxe4+,Be3,Bb4+,Nc3,d6', 'Qa4+,Qc6,Qxb4', 'https://lichess.org/training/fhSrK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fHtRu', 'Blitz', 'FITRIANSYAH', 1963, 'LorkinoZelenilo', 1971, 'e4,e5,Nf3,Nc6,d4,Nf6,Nc3,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,d6,f3,O-O,O-O-O,b6,Kb1,Bb7,g4,Nd7,h4,Ne5,Be2,Qf6,g5,Qf4,Rdf1,c5,Qxd6,Rfd8,Qc7,Bc6,h5,Rd7,Rh4,Qxg5,f4,Qxh4,Qxe5,f6,Bc4+,Kf8,Qe6,Rad8,Qg8+,Ke7,Qe6+,Kf8,Qxc6,Qxf4,Qe6', 'Qxf1+,Bxf1,Rd1+,Nxd1,Rxd1#', 'https://lichess.org/training/fHtRu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHtWX', 'Blitz', 'JarJarBeers', 2419, 'CM Davigator', 2357, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,Bc4,Nb6,Bb5,d5,O-O,Bg4,h3,Bh5,g4,Bg6,Nh4,e6,Nxg6,hxg6,Kg2,Rc8,Be3,a6,Bxc6+,Rxc6,Nd2,Nc4,Nxc4,Rxc4,b3,Rc6,Rc1,Qh4,Rh1,Ba3,Rxc6,bxc6,b4,Bxb4,Qa4,Qe7,Qxc6+,Kf8,Rc1,Kg8,Qc8+,Kh7,Qxa6,Ba3,Rc8,Rxc8,Qxc8,Qa7,Qe8,Bb2,a4,Bxd4,Bxd4,Qxd4,Qxf7,Qxe5,a5,d4,a6,d3,a7,Qd5+,Qf3,d2,a8=Q,d1=Q,Qaxd5,Qxd5,Qxd5,exd5,Kf3,g5', 'Ke3,Kg8,Kd4', 'https://lichess.org/training/FHtWX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fHTxO', 'Rapid', 'smca_sathvik', 1739, 'Doni56', 1936, 'e4,c5,c3,e6,d4,cxd4,cxd4,d5,exd5,exd5,Nc3,Nf6,Bb5+,Nc6,Nf3,Bg4,h3,Bh5,Bg5,Be7,g4,Bg6,Qb3,O-O,O-O-O,Ne4,Be3,Nxc3,Qxc3,Be4,Bd2,Bxf3,Qxf3,Nxd4,Qd3,Rc8+,Kb1,Nxb5,Qxb5,Qb6,Qxd5,Bf6,Qb3,Qxf2,Be3,Qg2,Bxa7,Rc2', 'Qxc2,Qxc2+,Kxc2', 'https://lichess.org/training/fHTxO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fhud7', 'Blitz', 'giodg91', 2200, 'lapsusmanus', 2079, 'e4,e5,f4,exf4,Bc4,Ne7,Nf3,d5,exd5,Nxd5,Nc3,Be6,Nxd5,Bxd5,Bxd5,Qxd5,d4,Nc6,O-O,O-O-O,c3,Bd6,a4,g5,b4,g4,Ne1,Qh5,Nd3,f3,g3,Qh3,Rf2,Bxg3,hxg3,Qxg3+,Kh1,Rd5,Bf4', 'Rh5+,Rh2,Rxh2#', 'https://lichess.org/training/fhud7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fhuRz', 'Rapid', 'redouane02', 1856, 'Shashki64', 1882, 'e4,c5,Nf3,d6,d4,Nf6,c3,cxd4,cxd4,a6,Nc3,Nc6,Bd3,g6,O-O,Bg7,Nd5,Nxd5,exd5,Nxd4,Ng5,h6,Ne4,O-O,Be3,Nf5,Bd2,Bxb2,Rb1,Bg7,Bc3,e5,dxe6,Bxc3,Nxc3,fxe6,Qb3,Qg5,Ne4,Qf4,f3,b5,Qb4,Bb7', 'Nf6+,Rxf6,Qxf4', 'https://lichess.org/training/fhuRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fhuxy', 'Blitz', 'FailChessDE', 1760, 'driloni1', 1775, 'e4,g6,Nf3,Bg7,d4,c6,Bd3,b6,O-O,Na6,Be3,Nb4,a3,Nxd3,Qxd3,Nf6,e5,Nd5,c4,Nxe3,Qxe3,O-O,h4,d6,g3,Bg4,Kg2,Bxf3+,Kxf3,dxe5,dxe5,Qc7,Re1,h5,Kg2,Rad8,Nc3,Qd7,Rad1,Qe6,f4,Rxd1,Rxd1,Qxc4,Rd4,Qb3,Rd2,e6,Qe4,c5,Qb7,a5,Ne4,Qb5,Ng5,c4,Rd7,Qxb2+,Kh3,Qc2,Rxf7,Rxf7', 'Qxf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/Fhuxy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHwSO', 'Classical', 'AvocadoPear', 1978, 'itakeback', 1975, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nc3,Nc6,Nf3,Bg4,Be3,e6,Be2,Be7,Qb3,Qc8,d5,Nd8,O-O,O-O,Rac1,c6,Rfd1,exd5,cxd5,Re8,Rd4,Bc5,Rxg4,Bxe3,Rxg7+,Kxg7,fxe3,Rxe3,Qc4,cxd5,Qd4,Re4,Qd2,Qc5+,Kh1,Rc8', 'Qg5+,Kh8,Qxf6+', 'https://lichess.org/training/FHwSO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHXnv', 'Rapid', 'Drunkaccount5', 1745, 'TheFiddler', 1972, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be3,e5,d5,Nbd7,Qd2,Nh5,g4,Nhf6,g5,Ne8,h4,f5,exf5,gxf5,Qc2,f4,Bd2,Nc5,O-O-O', 'Bf5,Qxf5,Rxf5', 'https://lichess.org/training/FHXnv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fHxOo', 'Classical', 'afterthatkitty', 1639, 'nit_el', 1649, 'd4,d5,Bf4,Nc6,Nf3,Bf5,c3,h6,h3,g5,Bh2,e6,g4,Be4,e3,Qf6,Bg2,O-O-O,Nbd2,Bd6,Nxe4,dxe4,Nd2,Bxh2,Rxh2,Qe7,Bxe4,Qd6,Rh1,Nf6,Bf3,h5,Nc4,Qf8,Qb3,Nd5,O-O-O,hxg4,Bxg4,f5,Bf3,Nb8,Ne5,Rh6,e4,fxe4,Bxe4', 'Qf4+,Kb1,Qxe4+', 'https://lichess.org/training/fHxOo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FHzGO', 'Blitz', 'Ferum112', 2183, 'Oresnok', 2343, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,O-O,Nc2,Bg5,h4,Bh6,g4,Bf4,Qf3,Be6,Nxf4,exf4,Qxf4,Ne5,Be2,a5,Nd4,Bc4,b3,Bxe2,Kxe2,Rc8,Rac1,Qd7,Nf5,Rfe8,Rhd1,Re6,Nxd6,Rxd6,Qxe5,Qxg4+,f3,Qg2+,Ke3,Rf6,Rf1,Qxa2,Qd5,a4,bxa4,Qxa4,Ra1,Qc2,Ra8,Qxc3+,Ke2,b4', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/FHzGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fi35n', 'Rapid', 'kaffaer3', 1685, 'nvbozkurt', 1690, 'e4,b6,Nf3,Bb7,Nc3,g6,Bc4,Bg7,Ng5,e6,d3,h6,Nf3,d6,Be3,Nd7,O-O,a6,d4,e5,d5,Ne7,b4,c6,a4,cxd5,exd5,Nf5,Qe2,O-O,a5,b5,Bb3,Re8,Bd2,e4,Nxe4,Bxa1,Rxa1,Qe7,Re1,Nf6,Nxf6+,Qxf6,Qxe8+,Rxe8,Rxe8+,Kg7,h3,Nh4,Re3,Nf5', 'Bc3,Nxe3,Bxf6+,Kxf6,fxe3', 'https://lichess.org/training/Fi35n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fI3dC', 'Rapid', 'Pavel_Kislov', 1851, 'Winmonath', 1887, 'e4,e5,b3,Nf6,Bb2,d6,Bb5+,Nc6,Nc3,a6,Bc4,b5,Bd5,Bd7,a4,b4,Nce2,Be7,a5,O-O,h3,Nxd5,exd5,Na7,d4,exd4,Nxd4,Nb5,Ngf3,Bf6,O-O,Re8,Qd2,Nxd4,Nxd4,Rb8,Qf4,Be5,Qd2,Qf6,f4,Bxd4+,Bxd4,Qg6,Rf3,c5,dxc6,Bxc6,Rf2,Bd7,Rf3,Bb5,Bb6', 'Re2,Rf2,Rxd2', 'https://lichess.org/training/fI3dC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FI3pN', 'Blitz', 'aaron089', 2277, 'WIM arpitachess', 2342, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,c4,Nf6,Nc3,Nc6,O-O,e5,d3,g6,a3,Bg7,Rb1,a5,Bg5,O-O,Qd2,Nd4,Nxd4,cxd4,Nb5,a4,f4,Ng4,f5,h6,h3,hxg5,hxg4,gxf5,Rxf5,f6,Rbf1,Kh7,R1f3,Kg6,Rh3,Rh8,Rff3,Qxg4,Nxd6,Rxh3,Rxh3,Rh8,Rxh8,Bxh8,Nf5,Bg7,Kf2,Bf8,Qe2,Qf4+,Kg1,g4,Nh4+,Kf7,Nf5,b6,g3,Qc1+,Kg2,Qg5,Nh4,Qh5,Qf2,Bh6,Qf5,Qxf5,Nxf5,Bc1,Nd6+,Ke6,Nc8,Bxb2,Nxb6,Bxa3,Nxa4,Bb4,Kf2,f5,exf5+,Kxf5,Nb6,e4,Nd5,Bd6,dxe4+,Kxe4,Nf6+,Kd3,Nxg4,Kc2,Kf3,d3,Ne3+,Kc3,Ke4,d2,g4', 'Bc5,Nd1+,Kc2', 'https://lichess.org/training/FI3pN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fi98Y', 'Blitz', 'Yasma', 1526, 'Fradifili', 1521, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,Qb3,Nxc3,bxc3,Bd6,Bxf7+,Kf8,Ng5,h6,Bg8,Qe7+,Kf1,hxg5,Bxg5,Qe8,Re1,Ne7,Re3,Rxg8,Rf3+,Nf5,g4,Be7,Rxf5+,Bf6,Bh4,Ke7,Bxf6+,gxf6,Rf4,Kd8,f3,d6,Rxf6,Rf8,Rxf8,Qxf8,Kf2,Bxg4,c4,c6,h3,Bh5,Qxb7,Qxf3+,Kg1,Qg3+,Kf1,Qd3+,Kg2,Qe2+,Kg1,Rc8,Rh2,Qe3+,Kf1,Qf3+,Rf2,Qxh3+,Ke1,Qc3+,Kf1,Qc1+,Kg2,Qg5+,Kf1,Qe7,Qb4,Qe4', 'Qxd6+,Ke8,Rf8#', 'https://lichess.org/training/fi98Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fiAL2', 'Rapid', 'zahid_015', 1816, 'torres2nrg', 1840, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,d6,Bc4,Be7,Nxc6,bxc6,Be3,O-O,Qd2,a5,h4,Bg4,f3,Bh5,g4,Bg6,h5,d5,exd5,cxd5,Nxd5,Nxd5,Bxd5,Bxc2,Bxa8', 'Bb4,Qxb4,axb4', 'https://lichess.org/training/fiAL2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fiazu', 'Rapid', 'syvsanger', 1743, 'Hazeran', 1762, 'd4,g6,Bf4,Bg7,Nf3,d6,Nbd2,Nf6,e3,O-O,Bd3,Bg4,c3,Nbd7,Qb3,e5,dxe5,Nxe5,Bxe5,Bxf3,Bxf6,Bxg2,Rg1,Qxf6,Rxg2,Qh4,O-O-O,Qh3,Rdg1,Be5,Bf1,Qf5,h4,a5,Rg5,Qxf2,h5,Qxe3,hxg6,hxg6,Rxg6+,Kh7,Qc2', 'Qe1+,Qd1,Qxd1+,Kxd1,fxg6', 'https://lichess.org/training/Fiazu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FIBY8', 'Blitz', 'jelzincompany', 2435, 'NM GMcanty', 2569, 'c4,Nf6,Nc3,g6,g3,d5,Bg2,d4,Nd5,Bg7,Nxf6+,Bxf6,Nf3,O-O,O-O,c5,d3,Nc6,Rb1,a5,a3,Re8,Nd2,Bg7,Ne4,b6,Nf6+,Bxf6,Bxc6,Bh3,Bxe8,Qxe8,Re1,h5,b4,axb4,axb4,h4,bxc5,bxc5,Bd2,Be5,Bf4,Qc6,f3,Bxf4,gxf4,Qf6,Qd2,e5,fxe5,Qxe5,e4,dxe3,Qxe3,Qf5,Rb2,Rd8,Rd2,Rd4,Qe8+,Kh7,Qe3,Rf4,Rf2,Rd4,Kh1,Rxd3,Qe4,Qd7,Qxh4+,Kg7,Qe4,Bf5,Qe5+,Kh7,Kg1,Rd1,Rxd1,Qxd1+,Kg2,Qc1,Qxc5,Qg5+,Kf1,Bh3+,Ke1,Qc1+,Ke2,Bf5,Qd4,Qc2+,Ke3,Qc1+,Qd2,Qxc4,f4', 'Qe4#', 'https://lichess.org/training/FIBY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fic8A', 'Blitz', 'LojanicaZ', 2138, 'Lazarevicev', 1787, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,d3,h6,Nf3,Bg4,Nc3,Bxf3,gxf3,Bb4,Rg1,Nxd5,Bd2,Nb6,Rxg7,Nxc4,dxc4,Qf6,Rg3,O-O-O,Nd5,Bxd2+,Qxd2,Nxf3+,Rxf3,Qxf3,Rd1,Rhg8', 'Ne7+,Kb8,Qxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/Fic8A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FieLS', 'Rapid', 'nuevotio', 2099, 'naperstochnik64', 1914, 'e4,Nf6,Nc3,d5,e5,Nfd7,d4,e6,f4,c5,Nf3,Nc6,Bb5,cxd4,Nxd4,Nxd4,Qxd4,a6,Be2,Bc5,Qd3,O-O,Bd2,Qa5,Nxd5,Qd8,Nc3,Qe7,O-O-O,Nb6,Ne4,Nd5,Nxc5,Qxc5,Kb1,b5,Bf3,Bb7,Rhe1,Rfd8,Qe2,Rac8,Be4,b4,Bc1,Qa5,Rd3,Bc6,Bxd5,Bxd5,b3,Rc7,Bb2,Rdc8,Rc1,Qb6,g4,a5,f5,a4,f6,axb3,cxb3,Rxc1+,Bxc1,Qg1,Rd1,Be4+,Ka1,Qd4+,Rxd4', 'Rxc1+,Kb2,Rb1#', 'https://lichess.org/training/FieLS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FIEP0', 'Rapid', 'EdnaldodaSilva', 1906, 'Guy_Ngwenya', 1902, 'e4,c5,Bc4,Nc6,d3,g6,a3,Bg7,Nc3,e6,Nf3,a6,Ba2,b5,Be3,Nd4,Bxd4,cxd4,Ne2,Qb6,h4,h5,Qd2,Ne7,Qf4,b4,O-O,bxa3,bxa3,Nc6,Ng5,O-O,Qd6', 'Be5', 'https://lichess.org/training/FIEP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FIeRK', 'Rapid', 'AliSimsek', 1805, 'newchessplayer1234', 1737, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d3,c5,Bg5,h6,Bh4,g5,Bg3,Be7,Qe2,Bg4,f3,Be6,Nd2,Nc6,c3,Bd6,c4,Bxg3+,hxg3,Nd4,Qe5,Nxb3,Nxb3,dxc4,Nxc5,Qa5+,Ke2,b6,Qxf6,Qxc5,Qxh8+,Ke7,Qxa8,cxd3+,Kxd3,Bf5+,Kd2,Qd4+,Ke1,Qe3+,Ne2,Bd3,Qb7+,Kf8,Qb8+', 'Kg7,Qe5+,Qxe5', 'https://lichess.org/training/FIeRK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fIfoQ', 'Rapid', 'Teocampionul', 1824, 'Marsuro', 1987, 'd4,Nf6,c4,e6,Bg5,d5,cxd5,Qxd5,Nf3,Ne4,Bf4,g5,Bxc7,Bb4+,Nbd2,g4,Bxb8,gxf3,Qa4+,Bd7,Qxb4,Nxd2,Qxd2', 'fxg2,Bxg2,Qxg2', 'https://lichess.org/training/fIfoQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fIGHd', 'Rapid', 'Seeger01', 1740, 'JH07IIP', 1679, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,c5,Qd1,Be6,Bxe6,fxe6,O-O,Be7,Bf4,O-O,f3,e5,Be3,a6,Qe2,b5,Rfd1,b4,Nd5,Nxd5,Rxd5,h6,Bxc5,Qc7,Bxb4', 'Qb6+,Kh1,Qxb4', 'https://lichess.org/training/fIGHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('figir', 'Blitz', 'Jibroni', 1977, 'carlpyf', 2033, 'd4,d5,Nf3,Nf6,Ne5,Nbd7,f4,c5,e3,cxd4,exd4,e6,Bd3,Ne4,O-O,f6,Nxd7,Bxd7,Nd2,Nd6,c3,Be7,Nf3,O-O,Bc2,Be8,Be3,Bh5,Bd3,Qe8,Be2,Bg6,Bd3,Bxd3,Qxd3,Nc4,Bc1,Rc8,b3,Nd6,Ba3,Ne4,Bxe7,Qxe7,Nd2,Rxc3,Qe2,Nd6,f5,e5,dxe5,fxe5,Nf3,Rxf5,Rad1,e4,Nd4,Rxf1+,Rxf1,Rc8,Rf4,Qc7,Qg4,Qc1+,Rf1,Qe3+,Kh1,Qxd4,Qe6+,Kh8', 'Qxc8+,Nxc8,Rf8#', 'https://lichess.org/training/figir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fiGJa', 'Classical', 'G_Zamponi', 1914, 'chuckbranson', 1927, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,d3,b6,Qe2,Nd7,d4,e4,c3,Be7,Nd2,Nf6,Nb3,Bb7,Bf4,Rc8,O-O-O,O-O,Qe3,a5,Be2,a4,Nd2,Qxa2', 'Bc4,Qa1+,Kc2', 'https://lichess.org/training/fiGJa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fIgu1', 'Rapid', 'PawnForest', 1852, 'Kaspachov', 1848, 'g3,g6,Bg2,Bg7,d4,d5,Nc3,Nc6,Nf3,e6,O-O,Nf6,Bg5,O-O,e4,dxe4,Nxe4,h6,Bxf6,Bxf6,Nxf6+,Qxf6,Qd2,Kg7,Rfe1,Rd8,c3,Bd7,Ne5,Rab8,h4,Nxe5,dxe5,Qf5,Qe3,a6,Kh2,Bb5,Bh3,Qc2,Qf4,Rd7,Qf6+,Kg8,h5,g5,Qxh6,Qxf2+,Bg2,Rd2,Qxg5+,Kf8,Rg1,Bc6,h6', 'Bxg2,Qxd2,Qxd2', 'https://lichess.org/training/fIgu1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fIhiQ', 'Classical', 'Pavliklidik', 1852, 'zor_s', 1987, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,d4,cxd4,Nxd4,Nc6,Nc3,e5,Ndb5,a6,Na3,b5,Nd5,Rb8,c3,Be7,O-O,Nf6,Nxf6+,Bxf6,f4,exf4,Bxf4,Be5,Bxe5,Nxe5,Qd5,O-O,Rad1,Rbd8,Nc2,Qg4,Ne3,Qe2,Qd2,Qh5,Rf5,Qg6', 'Rxe5,dxe5,Qxd8', 'https://lichess.org/training/fIhiQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FIHzX', 'Blitz', 'krzysztof_ibisz', 1942, 'luiperz', 1868, 'e4,c5,Nf3,e6,d4,a6,Nc3,Be7,g3,b5,Bg2,Bb7,d5,d6,O-O,e5,Ne2,Bc8,b3,f5,Nd2,Nf6,c4,O-O,Bb2,fxe4,Nxe4,Bf5,f3,Bxe4,fxe4,Ng4,Qd3,Bg5,Bc1,Rxf1+,Bxf1,Nd7,Bh3,Bxc1,Bxg4,Bb2,Rf1,Nf6,Be6+,Kh8,Qc2,Bd4+,Nxd4,cxd4,c5,dxc5,Qxc5,Qa5,d6,Rd8,Qxe5,d3,Rxf6,Qe1+,Rf1,Qe3+,Kg2,d2,Rf7,Qe2+,Kh3,Rg8,d7,d1=Q', 'Qxg7+,Rxg7,Rf8+,Rg8,Rxg8#', 'https://lichess.org/training/FIHzX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fii1n', 'Rapid', 'Egregor727', 1798, 'theaudacity', 1985, 'e4,c5,f4,e6,Nf3,Nc6,c3,d5,e5,Nge7,d4,h5,Bd3,b6,O-O,Bb7,Qc2,Qd7,Nh4,g6,Be3,Nf5,Bxf5,gxf5,Nd2,Be7,Ndf3,Bxh4,Nxh4,Qe7,Nf3,h4,h3,Rc8,a3,cxd4,Bxd4,Nxd4,Nxd4,Qc5,Kh1', 'Qxd4,cxd4,Rxc2', 'https://lichess.org/training/fii1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FIIbL', 'Blitz', 'kkdeni', 2017, 'wasp1968', 2090, 'e4,c5,Nf3,a6,c4,Nc6,Nc3,e5,d3,d6,h3,Nge7,g4,Ng6,Bg2,Be7,g5,Nf4,Bxf4,exf4,h4,h6,Qd2,hxg5,hxg5,Rxh1+,Bxh1,Bxg5,O-O-O,Bh6,Rg1,Be6,b3,Qa5,d4,cxd4,Nxd4,Nxd4,Qxd4,Qe5,Qxe5,dxe5,Bf3,O-O-O,Bg4,Bxg4,Rxg4,Rd3,Kc2,Rf3,Nd1,Kd7,Rg2,Kc6,b4,Ra3,Kb2,Rd3,Nc3,Rd2+,Kb3,f3,Rh2,Bf4,Rh7,Rxf2,Rxg7,Rg2,Rxf7,f2,Nd5,f1=Q', 'Rc7+,Kd6,c5+,Ke6,Re7#', 'https://lichess.org/training/FIIbL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fiJF7', 'Rapid', 'dachessboxin', 1847, 'Dreamer92', 1698, 'd4,d5,c4,dxc4,g3,b5,Bg2,c6,a4,Qb6,axb5,Qxb5,Nc3,Qb6,Nf3,Bb7,O-O,Nf6,e4,e6,Ne5,h6,Nxc4,Qc7,d5,cxd5,exd5,Qxc4,dxe6,fxe6', 'Bxb7', 'https://lichess.org/training/fiJF7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fikJf', 'Blitz', 'Shinairaj', 1590, 'Elefantpelle', 1590, 'e3,e6,d4,d5,c4,Nf6,c5,Nc6,Bb5,Bd7,Nc3,a6,Bxc6,Bxc6,Nf3,h6,O-O,Be7,Ne5,O-O,Nxc6,bxc6,f4,Rb8,b3,Ne4,Nxe4,dxe4,f5,exf5,Rxf5,Bg5,Qg4,Re8,h4,Bf6,g3,g6,Rf4,h5,Qe2,Bg5,Rf1,Bh6,Qxa6,Re6,Qe2,Qe8,g4,Bg7,g5,Ra8,Bd2,f6,gxf6,Rxf6,Rxf6,Bxf6,Qg2,Bxh4,a4,Kg7,Rf1,Qe7,Rf5,Bf6,Rxh5,Qf7,Rh3,Qxb3,Rg3,Qd1+,Kh2,Rh8+,Rh3,Rxh3+,Kxh3', 'Qh5+,Kg3,Qh4#', 'https://lichess.org/training/fikJf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fIMBC', 'Rapid', 'fran9500', 1803, 'Avalanche1997', 1833, 'e4,c5,Nf3,Nc6,Bb5,Qb6,Bxc6,Qxc6,d4,Qxe4+,Be3,cxd4,Qxd4,Qxc2,O-O,h6,Nbd2,Qh7,Rfd1,e6,Nc4,Nf6,Nfe5,Qe4', 'Nd6+,Bxd6,Qxd6', 'https://lichess.org/training/fIMBC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FIMcw', 'Blitz', 'IM Kosnl', 2543, 'JoueurTentaculaire', 2072, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,Nbd7,Qd2,e5,d5,a5,g4,Nc5,Nge2,c6,Ng3,cxd5,cxd5,Bd7,h4,Bxg4,fxg4,Nxg4,Bxc5,dxc5,O-O-O', 'Bh6,Qxh6,Nxh6', 'https://lichess.org/training/FIMcw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FiOgS', 'Rapid', 'DAVID_CIEZA', 1787, 'raymundochess', 1930, 'd4,d5,Nf3,Nf6,Nc3,Bf5,h3,e6,g4,Be4,Bg2,c5,Nxe4,Nxe4,Ne5,Nc6,Bxe4,dxe4,Nxc6,bxc6,Be3,cxd4,Bxd4,Bb4+,c3,Ba5,Bxg7,Qxd1+,Rxd1,Rg8,Be5,Rg5,Bf4,Rb5,b4,Bb6,O-O,Rd5,Rxd5,exd5,e3,a5,a3,axb4,Rb1', 'bxa3,Rxb6,a2', 'https://lichess.org/training/FiOgS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fIpf9', 'Blitz', 'adyge1986', 2031, 'CM FourNinetySix', 2356, 'f4,e5,fxe5,d6,exd6,Bxd6,Nf3,g5,d4,g4,Ng5,f5,e4,f4,e5,Qxg5,exd6,Qh4+,Kd2,cxd6,Bb5+,Bd7,Qe1+,Qe7,Bc4,Nc6,Kc3,d5,Bxd5,Nf6,Qxe7+,Kxe7,Bxc6,Bxc6,Bxf4', 'Nd5+,Kb3,Nxf4', 'https://lichess.org/training/fIpf9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FiSwd', 'Rapid', 'FlexibleTree', 1922, 'WadeWilson', 2018, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nh3,e6,c3,Nf6,Bd3,Bxd3,Qxd3,Qa5,Nf4,Nbd7,Nxe6,fxe6,Qg6+,Kd8,O-O,Bd6,Qxg7,Kc7,Qf7,Qd5,Re1,Rae8,b3,Rhg8,Bxh6,Bxg3,fxg3,Rxg3', 'Bf4+,Kb6,Bxg3', 'https://lichess.org/training/FiSwd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fIswW', 'Rapid', 'Fr3nchWarri0r', 2257, 'RenanChess', 2005, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e6,Be3,Be7,Qd2,b5,O-O-O,Bb7,a3,Nfd7,g4,Nc5,h4,Nc6,g5,Qc7,h5,O-O-O,Be2,Nxd4,Bxd4,e5,Be3,f6,h6,g6,Nd5', 'Nb3+,Kb1,Nxd2+,Rxd2,Bxd5', 'https://lichess.org/training/fIswW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fitwT', 'Rapid', 'Kolyandra-2_0_1_7', 1797, 'prajwalshenoy', 1797, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,O-O,a3,Bxc3+,bxc3,d6,e4,Nbd7,Nf3,h6,Bh4,c5,Be2,Qc7,O-O,Nxe4,Qd3,Nef6,Bd1,b6,Bc2,Ba6,Nd2,Rfe8,Ne4,Nxe4,Qxe4,g6,Bd3,cxd4,cxd4,Bxc4,Bxc4,Qxc4,Rfc1,Qb5,Qf4,Qh5,Bg3,d5,Rc7,Red8,Qd6,Nf6', 'Qe7,Rf8,Qxf6', 'https://lichess.org/training/fitwT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FiUXR', 'Rapid', 'Footbalint', 1862, 'GRRAN', 1859, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,Qb3,Qf6,O-O,dxc3,Bg5,Qg6,Nxc3,Bxc3,Qxc3,Nf6,e5,Ne4,Qe3,Nxg5,Nxg5,O-O,Bd3,Qh6,Qf4,f6,exf6,Qxf6,Qh4,h6,Nf3,Qxh4,Nxh4,d5,Rfe1,Nb4,Bg6,Bd7,Re7,Be8,Rxc7,Bxg6,Nxg6,Rf6,Nh4,b6,Nf3,Re8,Kf1,Rfe6,Re1,Rxe1+,Nxe1,Nxa2,Rxa7,Nc3,Rb7,b5,Nc2,Rc8,Ne3,d4,Nf5,d3,Rxg7+,Kf8,Rd7,Rc5,Nxh6,Rd5,Rxd5,Nxd5,Ke1,b4,Kd2,Kg7,Nf5+,Kf6,Nd4,Nf4,g3,Nh3,f4,Nf2,Nc6', 'b3,Nb4,b2,Nxd3,b1=Q', 'https://lichess.org/training/FiUXR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fIVBA', 'Rapid', 'Wo1khard', 1694, 'vicky12575588555', 1692, 'e4,e6,d4,c6,c4,Ne7,Nf3,Ng6,a3,Nh4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/fIVBA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fIVMO', 'Rapid', 'Naveen91', 1879, 'Avispa67', 1962, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Be2,Nf6,O-O,Bf5,c3,e6,h3,Be7,Be3,O-O,Nbd2,h6,Qb3,Na5,Qa4,Ne4,Nxe4,dxe4,Ne5,a6,b4,Nc6,Nxc6,bxc6,Qxc6,Rc8,Qxa6,Rxc3,a3,Rc2,Rfe1,Bf6,Rad1,Qd5,Qb5,Rxe2,Qxd5', 'Rxe1+,Rxe1,exd5', 'https://lichess.org/training/fIVMO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fiwbp', 'Rapid', 'volk82', 1811, 'jgarvik', 1978, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bc4,Qe7,Nc3,d5,Bb3,d4,Ne2,Nf6,Bg5,Qxe4,Bxf6,gxf6,O-O,Ba6,Ng3,Qg6,Re1+,Kf8,Qf3,Bb7,Ne4,Be7,Ng3,h5,Nf5,Bd6,Nxd4,Rb8,Qe3,c5,Nf3,h4,Rad1,Rg8,g3,Bxf3,Qxf3,hxg3,hxg3,Kg7,Re4,f5,Rh4,Rh8,Qc3+,f6,Rxh8,Rxh8,Qc4,Qh5,Qd5,Qh2+,Kf1,Qh5,Rd3,Re8,Re3,Qh3+,Ke2,Qg4+,Kd2,Qd4+', 'Qxd4,cxd4,Rxe8', 'https://lichess.org/training/fiwbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FIxoA', 'Rapid', 'JongAlagano', 1741, 'LHJ', 1747, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,Nc3,Qb6,Be2,c5,dxc5,Bxc5,O-O,Nc6,Na4,Qa5,Nxc5,Qxc5,b3,Bxf3,Bxf3,Nxe5,Be2,Rc8,c4,dxc4,bxc4,Nxc4,Bxc4,Qxc4,a4,Nf6,Ba3,Nd5,Rc1,Nc3,Qf3,Ne2+', 'Qxe2,Qxe2,Rxc8+,Kd7,Rxh8', 'https://lichess.org/training/FIxoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fIz38', 'Blitz', 'Kovalyovserggr', 1629, 'ruzbeh__8227', 1620, 'd4,d6,Nf3,c5,Nc3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Be3,e5,Ne4,f5,Nd2,f4,Bd4,exd4,Ne4,c5,Qd2,g5,e3,dxe3,fxe3,fxe3,Qxe3,Ne7,Nf6+,Kf7,Bc4+,d5,O-O-O,Kxf6,Rhf1+,Kg6,Bd3+,Nf5,Qe5,Qf6,Qxd5,Bh6,Qxa8,g4+,Kb1,Be6,Qxa7,Bg7,c3,h5,Qxc5,Rg8,Bxf5+,Bxf5+,Ka1,Rc8,Qd5,Rxc3,Rxf5', 'Rc1+,Rxc1,Qxb2#', 'https://lichess.org/training/fIz38');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FIZQ8', 'Rapid', 'mestrecapivara72', 2179, 'Heartless_MF', 1995, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,d4,cxd4,Qxd4,Ngf6,c4,g6,Nc3,Bg7,Qe3,O-O,h3,Rc8,b3,a6,a4,Nxe4,Bb2,Nxc3,Bxc3,Bxc3+,Qxc3,b5,axb5,axb5,O-O,bxc4,bxc4,Nb6,Nd2,Qc7,Rfc1,d5,c5,Nd7,Nb3,e5,c6,d4,Qg3,Nb8,Na5,f5,Qb3+,Kg7,Qe6,Rf6,Qd5,Nxc6,Nxc6,Rxc6,Rxc6,Qxc6,Ra7+,Kh6,Qxe5,Qe4,Qg7+,Kg5,Qxh7', 'Rc1+,Kh2,Qf4+,g3,Qxf2#', 'https://lichess.org/training/FIZQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FizqC', 'Blitz', 'murat627', 2042, 'MongerStronger', 1890, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h5,e6,Qd6,exf7+,Bxf7,g5,Nd7,Ne2,O-O-O,Bf4,e5,Bg3,Qb4+,c3,Qxb2,Nd2,Bg6,Bh3,exd4,cxd4,Bb4,Nf4,Bxd2+,Kf1,Be4,f3,Bxf3,Qxf3,Qxa1+,Ke2,Qxd4,Ng6,Re8+,Kf1,Qa1+,Kg2,Qb2,Rf1,Be3+,Kh1,Ne7,Nxe7+,Rxe7,Qf8+,Rxf8', 'Rxf8+,Re8,Rxe8#', 'https://lichess.org/training/FizqC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJ0Y1', 'Rapid', 'BatuhanCansu', 2381, 'MoxouS', 2421, 'd4,c5,Nf3,cxd4,Nxd4,e5,Nb5,d5,c4,d4,g3,Nc6,Bg2,Nf6,O-O,a6,N5a3,Bxa3,Nxa3,O-O,e3,Bg4,f3,Be6,b3,Qb6,Kh1,Rfd8,exd4,Nxd4,Be3,Qa5,Qc1,Rac8,Qb2,b5,b4,Qa4,c5,a5,bxa5,b4,Nb1,Nc2,Bg5,Nxa1,Qxa1,Rd1,Qxe5,Rxf1+,Bxf1,Qd1,Nd2,Nd7,Qe2,Qxe2,Bxe2,Rxc5,Be7,Rc2,Bxb4,Rxa2,Bb5,Ne5,a6,Bd5,Bd6,Nxf3,Nxf3,Bxf3+,Kg1,Be2,Bxe2,Rxe2,a7,Ra2,Bc5,f6,Bf2,Kf7,Kg2,Ke6,h3,Kd7,g4,Kc6,Kg3,Kb7,Be3,Rxa7,Bxa7,Kxa7,Kf4,Kb7,Kf5,Kc7,Ke6,Kc6,Kf7,h5', 'Kxg7,hxg4,hxg4,Kd6,Kxf6', 'https://lichess.org/training/FJ0Y1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fj1bn', 'Rapid', 'antoniomaranon', 2068, 'feodor77', 2011, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,g3,e5,Nb3,Be7,Bg2,O-O,O-O,Be6,Nd5,Bxd5,exd5,Nbd7,Be3,Rc8,a4,Qc7,c3,Nb6,Na5,Nc4,Nxc4,Qxc4,a5,Bd8,Ra4,Qc7,Bb6,Qd7,Bxd8,Qxd8,Qb3,Rc7,Rb4,Qe7,c4,Nd7,Qe3,Nc5,Rb6,f5,b4,Na4,c5,Nxb6,axb6,Rcc8,Rc1,h6,c6,e4,b5,axb5,Bf1,Qe5,Bxb5,Qxd5', 'Bc4,Qxc4,Rxc4', 'https://lichess.org/training/fj1bn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJ1sP', 'Rapid', 'davoud8', 2188, 'kuatkoroi', 1863, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,g3,d5,Bg2,c5,O-O,Nc6,cxd5,Nxd5,dxc5,Qa5,Nb3,Qd8,a3,Qf6,Nbd4,a5,Nxc6,bxc6,e4,Nc7,e5,Qe7,Qa4,Bd7,Rac1,Nd5,Nd2,Rfb8,Nc4,Qxc5,Nd6,Qb6,Rc2,Ra7,Qh4,Qb3,Rfc1,Qa2,Qh5,g6,Qh6,Rxb2,Bxd5,exd5,Rxc6,Bxc6,Rxc6,Qb1+,Kg2,Rb8,Qe3,Re7,h4,Qb3', 'Rc8+,Rxc8,Qxb3', 'https://lichess.org/training/fJ1sP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fj1Xv', 'Rapid', 'MichaelKHAB', 1666, 'Sky_Petr', 1813, 'e4,e5,Nf3,d6,h3,Be7,Bc4,c5,d3,Nf6,Ng5,O-O,Nc3,h6,h4,hxg5,hxg5,Ng4,Qf3,Bxg5,Bxg5,Qxg5,Nd5,Nc6,Qg3,Nd4,Bb3,Nxb3,axb3,f5,f4,exf4,Nxf4,Rf6', 'Rh5,Qxh5,Nxh5', 'https://lichess.org/training/Fj1Xv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJ4JQ', 'Classical', 'zagaboot808', 1681, 'Lynn_35hipe', 1668, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Be2,Nf6,Nf3,e5,d4,e4,Ng5,Bf5,Bd2,h6,Nb5,Qb6,Nh3,a6,Nc3,Qxd4,Nf4,Bc5,O-O,g5,Nh5,Nbd7', 'Ng7+,Kf8,Nxf5', 'https://lichess.org/training/fJ4JQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJ5KW', 'Rapid', 'PankajGadia', 1725, 'KA1359', 1759, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Ng4,Qxe4+,Ne3,Nf6,O-O,Bc5,Re1,O-O,Nc3,Qf4,Ne2,Qg5,d4,Bh3,dxc5,Rfe8,Ng3,Bg4,Nxg4,Qxg4,Qxg4', 'Rxe1+,Nf1,Nxg4', 'https://lichess.org/training/fJ5KW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fj6uN', 'Blitz', 'm007mc', 1640, 'theunrealcora', 1676, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Bxf7+,Kxf7,Ng5+,Kg6,d4,Nxd4,f4,h6', 'f5+,Nxf5,exf5#', 'https://lichess.org/training/Fj6uN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJ7Cu', 'Blitz', 'Bastiphil', 2551, 'MunchenLaufer', 2365, 'd4,Nf6,Bg5,c5,d5,Ne4,h4,g6,c3,Bg7,d6,Nxd6,Qxd6,exd6,Bxd8,Kxd8,Na3,a6,Nc4,Kc7,O-O-O,Bf8,e4,b5,Ne3,Bb7,Nd5+,Bxd5,exd5,b4,h5,a5,hxg6,fxg6,Bd3,bxc3,bxc3,Bg7,Kc2,Na6,Nf3,c4,Bxc4,Nc5,Bb5,Ne4,Rc1,Nxf2,Rhe1,Rhe8,a4,Ng4,Kd3,Bh6,Rcd1,Ne3,Rb1,Nxd5,g3,Rf8,Nd4,Rf2,Rbd1,Raf8,Rh1,Be3', 'Rxh7,Bxd4,Rxd7+,Kc8,Kxd4', 'https://lichess.org/training/fJ7Cu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJ8wo', 'Rapid', 'Maqqa', 1828, 'Ahad2800', 1823, 'd4,Nf6,c4,c5,d5,e6,dxe6,fxe6,Bg5,Be7,Nf3,O-O,e3,d5,cxd5,exd5,Bd3,Nc6,O-O,Bg4,Bxf6,Bxf6,Qc2,Bxf3,Bxh7+,Kh8,gxf3,Bxb2,Qxb2,Kxh7,Qxb7,Ne5,Nd2,Rb8,Qxa7,Nxf3+,Nxf3,Rxf3,Qxc5,Rb6,Kh1,Rh6,Qc2+,Kh8,Rg1', 'Rxh2+,Kxh2,Qh4+,Kg2,Qh3#', 'https://lichess.org/training/fJ8wo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FjBCN', 'Blitz', 'NM superior2017', 2340, 'Maybach77', 2340, 'Nf3,d5,c4,d4,b4,c5,b5,g6,Bb2,Bg7,e3,e5,d3,Ne7,Be2,O-O,exd4,exd4,O-O,b6,a4,Bb7,Nfd2,Nd7,Bf3,Qc7,Bxb7,Qxb7,Qf3,Qxf3,Nxf3,h6,Nbd2,g5,Rfe1,Rfe8,Ne4,Ng6,a5,Nf4,Rad1,bxa5,g3,Ng6,Ra1,a6,Rxa5,axb5,Rxb5,Ra2,Kg2,g4,Nfd2,f5,Rb7,fxe4,Nxe4,Nge5,Bc1,Rf8,Bf4,Rf7,Nd6,Rf6,Ne8,Rf7,Nxg7,Kxg7,Rxe5,Nxe5,Bxe5+,Kg6,Rb6+,Kh7,Bf4,Re7,Rxh6+,Kg7,Rh4,Ree2,Rxg4+,Kf6,Bg5+', 'Kf5,Rf4+,Kxg5', 'https://lichess.org/training/FjBCN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJDe9', 'Classical', 'Sor_Keiji', 1987, 'knappe04', 1926, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,a3,d5,exd5,Nxd5,Nxc6,bxc6,Ne4,Be7,Bd3,O-O,O-O,Rb8,Qh5,h6,Bxh6,gxh6,Qxh6,f5,f4,fxe4,Qg6+,Kh8,Bxe4,Nf6,Rf3,e5,f5,Bc5+,Kh1,Qe7,Rh3+,Nh7,f6,Qf7', 'Rxh7+,Qxh7,Qxh7#', 'https://lichess.org/training/FJDe9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJe3h', 'Rapid', 'dogusugur', 1772, 'doug1980', 1819, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bb5,Nd4,Nxe5,Nxb5,Nxb5,d6,Nf3,Bg4,d3,Qd7,Be3,Be7,Nc3,O-O,Qd2,Bxf3,gxf3,Qh3,Qe2,Qg2,O-O-O,a5,Rdg1,Qh3,f4,a4,a3,c5,f5,Rab8,Rg3,Qh5,Qf1,Ng4,Bf4,Bh4,Rh3,b5,Bxd6,b4,axb4,cxb4,Bxf8,bxc3,Ba3,Qg5+,f4,Qd8,bxc3,Nf2,Rxh4,Qxh4,Rg1', 'Qxf4#', 'https://lichess.org/training/FJe3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fjep5', 'Rapid', 'jan56', 2042, 'codissocool', 2290, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Bb4,Qc2,dxc4,e4,b5,Bg5,h6,Bh4,g5,Bg3,Bb7,e5,Ne4,a3,Ba5,Be2,h5,h4,Nxg3,fxg3,g4,Ng5,Bxg2,Rh2,Qd5,O-O-O,Bxc3,bxc3,Qb7,Rg1,Bd5,Rf2,Qa6,Kb2,Nc6,Nxf7,Rf8,Qg6,Ne7,Qxh5,Nf5,Nd6+,Kd7,Nxf5,exf5,Rxf5,Be6,Rf6,Rxf6,exf6,Rf8,Rf1,Qa4,Bd1,Qa6,Qc5,Qd6,Qxb5+,Qc6,Qb4,Qg2+,Kc1,Rf7,Rf4,Qxg3,Ba4+,Kc8,Rf1', 'Qe3+,Kb2,Qe2+', 'https://lichess.org/training/fjep5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FjEYG', 'Classical', 'legloanec', 1735, 'Serge38', 1971, 'd4,Nf6,Nf3,g6,e3,d6,Bd3,Bg7,c3,O-O,h3,Nbd7,Nbd2,c5,O-O,Nb6,Re1,Nfd5,Nc4,Nxc4,Bxc4,Nb6,Bb3,c4,Bc2,d5,e4,e6,e5,Bd7,a4,a5,b3,cxb3,Bxb3,Qc7,Ba3,Rfc8,Bc5,Bf8,Bxf8,Rxf8,Qd2,Kg7,Qg5,Qd8,Qg3,Rc8,Nd2,Rc7,f4,Qc8,Rec1,Rc6,Qd3,f5,c4,Na8,c5,b6,Qe3,Qc7,Rc3,bxc5,Rxc5,Rxc5,dxc5,Rc8,Rc1,Nb6,Qc3,Nxa4,Bxa4,Bxa4,Nf3,Bd7,Nd4,Kf7,g4,Qa7,gxf5,gxf5,Kg2,Rg8+,Kf3,a4,c6,Rc8,Qd2,Be8', 'Nb5,Qa6,Nd6+', 'https://lichess.org/training/FjEYG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJfYZ', 'Rapid', 'Azazel57', 1877, 'stekoljsik', 1909, 'e4,c5,Nf3,Nc6,Bb5,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Bc4,Nf6,e5,Qa5+,Nc3,Qxe5+,Be3,d5,Bb3,Ba6,Qf3,O-O,O-O-O,Qc7,h4,e5,Bg5,Nd7,g4,e4,Qe3,Rfe8,h5,Ne5,Bf4,Qd7,h6,Bh8,g5,Nc4,Bxc4,Bxc4,Nxe4,Rxe4,Qxe4,dxe4,Rxd7,Bd5,Be3,a5,Rh3', 'Be6,Rh4,Bxd7', 'https://lichess.org/training/FJfYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fjgb2', 'Blitz', 'isabelfl', 1579, 'Domfredon', 1616, 'e4,e5,Nf3,Nf6,d4,exd4,Nxd4,Bc5,Nf3,Qe7,e5,Ng4,Be3,Nxe3,fxe3,O-O,e4,d6,Nc3,dxe5,Nd5,Qe6,Nxc7,Qb6,Nxa8', 'Bf2+,Kd2,Qe3#', 'https://lichess.org/training/Fjgb2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fjHjR', 'Rapid', 'Eltramas', 1749, 'NATALIA2016', 1762, 'd4,Nf6,Nc3,g6,Bg5,Bg7,e4,O-O,Qd2,d6,O-O-O,Nc6,h4,h5,Bh6,e5,d5,Ne7,Be2,Ng4,Bxg7,Kxg7,Bxg4,Bxg4,f3,Bd7,g4,hxg4,fxg4,Bxg4,Rf1,Bh5,Nf3,Qd7,Ng5,c6,Rf2,cxd5,Nxd5,Nxd5,Qxd5,Rae8,Rhf1,f6,Nh3,Qxh3,Qxb7+,Rf7,Qc6,Qe3+,Kb1,Be2,Qxe8,Bxf1,Rxf1,Qxe4,h5,g5', 'h6+,Kxh6,Qxf7', 'https://lichess.org/training/fjHjR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJjf3', 'Rapid', 'ACTIVIDAD', 2199, 'DiegoTY', 2134, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,Be3,a6,f4,Nf6,Qf3,Bb4,Bd3,O-O,O-O,Nxd4,Bxd4,Bc5,Bxc5,Qxc5+,Qf2,Qxf2+,Rxf2,b5,e5,Ng4,Rf3,Bb7,Rg3,Nh6,Be4,Bxe4,Nxe4,Nf5,Rd3,Rfd8,Nd6,Ne7,a4,Nd5,g3,b4,c4,bxc3,bxc3,Rab8,c4,Nb4,Rb3,Nc6,Rab1,Kf8,Kf2,Ke7,Ke3,f6,Ke4,fxe5,fxe5,a5,Rb5,Rf8,Rxb8,Rxb8,Rb5,Rf8,Nb7,Rf2,Nxa5,Nxa5,Rxa5,Rxh2,Rc5,Rg2,Kf3,Ra2,a5,d6', 'Rc7+,Kd8,exd6', 'https://lichess.org/training/fJjf3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FjJl4', 'Rapid', 'server33', 1828, 'larkin01', 1851, 'e4,e6,Nf3,d5,exd5,exd5,d4,c5,c3,Nf6,Bg5,Be7,Ne5,h6,Bb5+,Bd7,Bxf6,Bxf6,Bxd7+,Nxd7,Nxf7,Kxf7,Qh5+,g6,Qxd5+,Kg7,O-O,cxd4,Qxb7,d3,Rd1,Re8,Na3,Kf8,Rxd3,Re7,Rad1,Qe8,Rxd7', 'Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/FjJl4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJLba', 'Rapid', 'trumposo', 2016, 'King_des_Monats', 1814, 'e4,e5,Nf3,Nf6,Bc4,Nc6,O-O,d5,exd5,Nxd5,Re1,f6,d4,Nb6,Bb3,Bg4,c3,Bd6,Qe2,Qd7,dxe5,Nxe5,Nxe5,Bxe5,Qe4,O-O-O,Be3,Rhe8,Qb4,Bh3,Na3,Qg4,Qxg4+,Bxg4,f3,Be6,Nb5,a6,Nd4,Bxb3,axb3,Nd5,Bf2,Bxd4,Bxd4,Nb4', 'Rxe8,Rxe8,cxb4', 'https://lichess.org/training/FJLba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJLin', 'Rapid', 'detelinov79', 1737, 'Julmero', 1777, 'd4,Nf6,c4,c5,d5,b5,Nc3,bxc4,e4,Ba6,e5,Ng8,Nf3,d6,Qa4+,Qd7,Bxc4', 'Qxa4,Nxa4,Bxc4', 'https://lichess.org/training/fJLin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJlnC', 'Rapid', 'Marteklias', 1901, 'playerok', 2000, 'b4,Nf6,b5,g6,Bb2,Bg7,c4,a6,a4,axb5,cxb5,O-O,e3,d5,Nf3,c5,Be2,b6,O-O,Bb7,d4,c4,Nc3,Re8,Ba3,Nbd7,Bb2,e5,Na2,e4,Nd2,Nf8,Nc3,Ne6,f3,exf3,Bxf3,Ng5,Qe2,Nxf3+,Rxf3,Bc8,Rf2,Bg4,Qe1,Qe7,Nf1,Ne4,Rf4,Bf5,Nxd5,Qd6,Nc3,Bxd4,Rd1,Nxc3,Rdxd4,Nd5,Rf2,Qc5,Rc2', 'Bxc2,Rxd5,Qxd5', 'https://lichess.org/training/fJlnC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fjm61', 'Rapid', 'ziko76', 2111, 'Gongxiaobin', 2007, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,exd4,e5,Ng4,Bf4,d6,exd6,Bxd6,Re1+,Kf8,Bxd6+,Qxd6,h3,Nf6,Nbd2,Bd7,Ne4,Nxe4,Rxe4,Re8,Rxe8+,Bxe8,a3,g6,Qd2,Kg7,Re1,Bd7,Qg5,Qf6,Qg3,Qd8,h4,Re8,Rd1,a6,h5,Be6,Bd3,Qe7,hxg6,hxg6,Nh4,Bd5', 'Nf5+,Kf8,Nxe7', 'https://lichess.org/training/fjm61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJmeJ', 'Rapid', 'banglar-dabaru', 2177, 'Kayrosas', 2226, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Be7,O-O,O-O,Bxc6,Nxc6,Qxc6,Bd7,Qf3,Rc8,Nc3,Bc6,Qh3,h6,Nf3,e4,Ne5,Bb7,d3,exd3,Nxd3,Rc4,f3,Nh7,Bf4,Rxf4,Nxf4,Qd4+,Kh1,Qxf4,Ne2,Qd2,Ng3,Bc8,Qh5,Qxc2,b3,Bf6,Rfc1,Qb2,Rcb1,Qxa1,Rxa1,Bxa1,h3,Be6,Ne4,Rc8,Kh2,Rc2,Qa5,Bd4', 'Qd8+,Nf8,Qxd4', 'https://lichess.org/training/FJmeJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fjmkn', 'Rapid', 'HaGueEhr', 2055, 'whacki', 1786, 'e4,e5,f4,d5,exd5,e4,d3,exd3,Qxd3,Nf6,c4,Bc5,Nf3,O-O,Nc3,Re8+,Be2,Ng4,Rf1,Qe7,Bd2,g6,Ne5,Qh4+,Qg3,Qxg3+,hxg3,Nxe5,fxe5,Rxe5,Bf4,Re7,O-O-O,Bb4,Bf3,Bf5,Rfe1,Rxe1,Rxe1,Na6,g4,Bd3,a3,Bxc3,bxc3,Bxc4,Re7,Kf8,Re3,Re8', 'Bh6+,Kg8,Rxe8#', 'https://lichess.org/training/Fjmkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJNbY', 'Rapid', 'LazerRazor', 1892, 'Domvar', 2082, 'e4,c5,Nf3,e6,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,d6,Bc4,Nb6,Bb5+,Bd7,Nc3,dxe5,Nxe5,Bb4,Bd2,Bxc3,Bxd7+,N8xd7,Bxc3,O-O,O-O,Rc8,Rc1,Nd5,Qb3,Qb6', 'Nxd7,Qxb3,axb3', 'https://lichess.org/training/fJNbY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJOTj', 'Blitz', 'Afterb4', 1905, 'm_h_02', 1901, 'd4,b5,e4,c6,Nf3,Qb6,Be3,e6,Bd3,d5,O-O,Nf6,Nbd2,Be7,Bg5,h6,Bxf6,Bxf6,exd5,exd5,c3,O-O,h3,Na6,Qc2,Nc7,Rae1,Ne6,Ne5,Nf4', 'Bh7+,Kh8,Nxf7+,Rxf7,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/fJOTj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FjQE9', 'Rapid', 'jvalfac', 1839, 'MadKakashi', 1810, 'Nf3,d5,d4,c5,e3,Nf6,c3,e6,Be2,Bd6,Ne5,Qc7,f4,Nc6,O-O,Be7,Nd2,b6,a3,Bb7,Qa4,O-O,Bb5,Nxe5,fxe5,Ne8,Bd3,f6,exf6,Nxf6,Qc2,c4,Be2,a5,Nf3,b5,Bd2,Ne4,Be1,Bd6,h3,b4,Bh4,bxc3,bxc3,Rfb8,Ng5,Nxg5,Bxg5,e5,Bg4,exd4,exd4,Rf8,Be6+,Kh8,Bf5,h6,Bh4,Bc8,Bxc8,Raxc8,Qg6,Rxf1+,Rxf1,Bxa3', 'Rf7,Qxf7,Qxf7', 'https://lichess.org/training/FjQE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJqsg', 'Blitz', 'IM RzayevBahruz', 2580, 'GM JackHenry', 2657, 'Nf3,c5,e4,e6,b3,b6,Bb2,Bb7,Nc3,d6,d4,cxd4,Nxd4,a6,Bd3,Nf6,O-O,Be7,Qe2,O-O,Rad1,b5,e5,dxe5,Qxe5,Nbd7,Qe2,Qb6,Ne4,Nxe4,Bxe4,Bxe4,Qxe4,Nf6,Qh4,Rac8,Rd3,Rfd8,Rg3,Rd5,Qh6,g6,Qe3,Rcd8,c3,Nh5,Rf3,Bc5,g4,b4,gxh5,bxc3,Qf4,Bxd4,Qxf7+,Kh8,h6,cxb2', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/FJqsg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJqXA', 'Blitz', 'moiseul', 1919, 'AboAdeel', 1875, 'e4,c5,Nf3,d6,d3,Nf6,Nbd2,g6,g3,Bg7,Bg2,O-O,O-O,Nc6,Re1,Qc7,a4,a5,Nc4,Bg4,h3,Bxf3,Bxf3,Rad8,Bg2,Ne8,f4,Nd4,c3,Nc6,g4,e5,f5,Kh8,Ne3,Nf6,Bf3,d5,Nxd5,Nxd5,exd5,Ne7,c4,Qd6,Bg5,f6,Be3,gxf5,gxf5,Nxf5,Be4,Nxe3,Rxe3,f5,Bg2,f4,Re4,Rf5,Qf3,Rd7,Kh2,Rdf7,Rg1,Rg5,Re2,Qg6,Qe4,Qxe4,Bxe4,Rxg1,Kxg1,Kg8,Rf2,Kf8,Kh2,Ke7,h4,Kd6,Kh3,Rf6,Kg4,Bf8,Kg5,Be7,h5', 'Rg6+,Kf5,Rg5#', 'https://lichess.org/training/FJqXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJr77', 'Blitz', 'Gnabz', 2013, 'raancait11', 1987, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nb5,d6,N1c3,a6,Nd4,Qc7,Be2,Nf6,O-O,Be7,f4,Nxd4,Qxd4,d5,Be3,dxe4,Nxe4,O-O,Bd3,Nxe4,Qxe4,g6,Kh1,Bd7,Bd4,Bc6,Qe3,Bd5,Qh3,Rfc8,c4,Bc6,Qh6,Bf8,Qg5,Bg7,Bxg7,Kxg7,f5,exf5,Rxf5,Qd8,Qg3,Qc7,Qg5,Qd8,Qg3,Qc7,Qg4,Rd8,Bc2,Bd7,Qd4+,Kg8,Rd5,Be6,Rxd8+,Rxd8,Qh4,Rd2,Bb3,Qc6,Rg1,Qd6,Qe1,Rd4,Qc3,Rd3,Qc2,Rd2,Qc3,Bf5,c5,Qd4,Qf3,Be4,Qg3,Qd3,Qf4,Rxg2', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/FJr77');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJRK5', 'Rapid', 'phoebe123', 1631, 'Viktor_le_Terrible', 2028, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Nf3,c5,Bg5,d6,e3,Nbd7,Be2,Qa5,Qc2,a6,O-O,b5,cxb5,axb5,dxc5,Nxc5,Bxf6,gxf6,c4,bxc4,Bxc4,Bb7,Be2,Be4,Qb2,e5,Nd2,Bg6,Qa2,Rab8,Nc4,Qc7,Qd2,Rfd8,e4,Bxe4,Qh6,Bg6,Bh5,d5,Nd2,d4,Bxg6,fxg6,Nf3,e4,Nh4,d3,Qe3,Nb3,Ra2,f5,Qg5,d2,Nxf5,d1=Q,Nh6+,Kg7,Nf5+,Kh8', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/FJRK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FjrwP', 'Blitz', 'bshankar9', 1986, 'nahperseo', 1970, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,Bf5,e3,dxc4,Bxc4,e6,Nge2,Nbd7,O-O,Nd5,Bg3,Be7,Bb3,O-O,Bc2,Bxc2,Qxc2,N7f6,e4,Nxc3,bxc3,Nh5,Be5,Bd6,Bxd6,Qxd6,e5,Qe7,Qe4,Qg5,h4,Qg6,Qf3,f5,Rab1,Rab8,c4,f4,d5,exd5,cxd5,cxd5,Qxd5+,Kh8,Rxb7,Rxb7,Qxb7,f3,Ng3,Nxg3,fxg3,Qxg3,Rxf3,Qe1+,Kh2,Qxh4+,Kg1,Qd8,e6,Rxf3,Qxf3,Qe7', 'Qa8+,Qd8,Qxd8#', 'https://lichess.org/training/FjrwP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJRWv', 'Classical', 'HellBlaze', 1624, 'kasta', 1627, 'e4,c5,f4,Nc6,c4,Nd4,Nf3,d5,e5,Bg4,Be2,Bxf3,Bxf3,e6,Nc3,Qh4+,g3,Qh3,cxd5,exd5,Nxd5,Rd8,d3,Ne7,Nc7+,Kd7,Nd5,Nxd5,Bxd5,Ke7,Be4,c4,Be3,cxd3,Qxd3', 'Nf3+,Kf2,Rxd3', 'https://lichess.org/training/fJRWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fjs00', 'Blitz', 'elburrosabio', 1657, 'AlexL2020', 1677, 'e4,e5,Nf3,Bc5,c3,Nf6,d4,exd4,e5,Ne4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,Nxd2,Qxd2,O-O,Bc4,d5,Bb3,Bg4,Qf4,Bxf3,Qxf3,f6,Bxd5+,Kh8,e6,Re8,O-O,c6,Bb3,Qxd4,Rad1,Qb6,Rfe1,Na6,Qh3,Nc5,Bc2,h6,Bg6,Re7,Bf7,Rd8,Qc3,Rxd1,Rxd1,Ne4,Qf3,Ng5,Qf5,Nxf7,exf7,Rxf7,Qc8+,Kh7,Rd8,Qxb2', 'Rh8+,Kg6,Qg4#', 'https://lichess.org/training/Fjs00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fjtRg', 'Rapid', 'Discalie', 1857, 'shyntik', 2061, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,c3,Nf6,d3,Be7,Be3,O-O,Nbd2,Bg4,h3,Be6,Bb3,d5,exd5,Nxd5,Qe2,f5,Nc4,Bf6,O-O-O,b5,Na3,e4,dxe4,fxe4,Nd4,Nxd4,Bxd4,Bg5+,Kb1,c6,Qxe4', 'Bf5,Qxf5,Rxf5', 'https://lichess.org/training/fjtRg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJUAq', 'Rapid', 'Masterleonard', 1700, 'moninono', 1649, 'e4,c5,Nf3,Nc6,c4,e6,Nc3,d6,d4,cxd4,Nxd4,Nf6,g3,Qb6,Nxc6,bxc6,Rb1,Be7,Be3,Qc7,b4,a6,Bg2,O-O,O-O,d5,cxd5,cxd5,Na4,dxe4,Rc1,Qd6,Bc5,Qxd1,Rfxd1,Bxc5,bxc5,a5,c6,Ba6,Nc5,Be2,Rd3,exd3,c7,Rac8,Nb3,e5,Bb7,e4,Bxc8,Rxc8,Nd2,Nd5,Nxe4,Rxc7,Rb1,h6,Rb8+,Kh7,Kg2,Rc2,Rd8,Nb4,Rd7,f5,Nf6+,Kg6,Ne8,d2', 'Rxg7+,Kh5,Nf6#', 'https://lichess.org/training/fJUAq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FjUIV', 'Classical', 'MateInFortyTwo', 2012, 'fischerillo', 2133, 'd4,Nf6,e3,d5,Bd3,g6,f4,Bg7,Nf3,O-O,Ne5,c5,c3,Nc6,Nd2,Qb6,dxc5,Qxc5,Nb3,Qb6,Nxc6,bxc6,Nd4,c5,Nf3,Bg4,Be2,Bxf3,Bxf3,Rad8,O-O,d4,exd4,cxd4,cxd4,Rxd4,Qe2', 'Rd2+,Qe3,Qxe3+', 'https://lichess.org/training/FjUIV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FjUlE', 'Rapid', 'chessalchemist43', 1679, 'wladimirovich', 1728, 'd4,d5,c4,c6,c5,e5,e3,b6,b4,bxc5,bxc5,Ba6,Bxa6,Nxa6,Qa4,Nb8,Bd2,exd4,exd4,g6,Ba5,Qe7+,Ne2,Bg7,Nc3,Nf6,Rb1,O-O,Bc7,Ne4,Rb3,Re8,Bd6,Nxd6,cxd6,Qxd6,O-O,Nd7,Rb7,Nb6,Qa6,Re7', 'Rxb6,axb6,Qxa8+', 'https://lichess.org/training/FjUlE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fjuWo', 'Rapid', 'rochamovshysk', 1784, 'lukind2004', 1761, 'd4,d5,Nf3,e6,c4,Nf6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Bg5,h6,Bxf6,Qxf6,e3,b6,Be2,Rd8,O-O,c5,Qc2,Ba6,Ne5,Qe7,Bd3,f6', 'Bh7+,Kh8,Ng6+,Kxh7,Nxe7+', 'https://lichess.org/training/fjuWo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fjvMD', 'Classical', 'elnoob1', 1706, 'mhtbyk', 1649, 'e4,e5,Nf3,c6,Nxe5,Nf6,d3', 'Qa5+,Nc3,Qxe5', 'https://lichess.org/training/fjvMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FjvP7', 'Rapid', 'supernebulon', 1788, 'Eupqsa', 1815, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qh5+,Kf8,Qxc5+,Qe7,Qxe7+,Kxe7,Nxc3,d6,Nd5+,Kd7,Bd2,Nge7,Nxe7,Kxe7,Bc3,Rg8,O-O,Bg4,Nd4,Nxd4,Bxd4,Be2,Rfe1,Ba6,f3,b6,Kf2,c5,Bc3,Ke6,Rad1,g6,Kg3,Rad8,Kg4,h6,h4,Bc4,b3,Ba6,Bd2,Rh8,Bf4,Bc8,Kg3,h5,Bg5,Rd7,f4,Bb7,e5,d5,Kf2,d4,g3,d3,Re3,Ba6,Kf3,c4,bxc4,Bxc4,a3,Rhh7,g4,hxg4+,Kxg4,b5,Bf6,Rh5,Rd2,a5,Bg5,b4,axb4,axb4,Re4,Kd5,e6,Rxg5+,hxg5', 'Kxe4,exd7,Be6+,Kh4,Bxd7', 'https://lichess.org/training/FjvP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fjwj2', 'Blitz', 'ARNAU68', 1601, 'Villa1962', 1564, 'e4,c6,Nf3,d5,exd5,cxd5,d3,Nc6,Bf4,Nf6,Be2,Nh5,Bg3,Nxg3,hxg3,e5,Nbd2,Bd6,Nb3,f6,d4,e4,Nfd2,O-O,c4,Bb4,cxd5,Qxd5,a3,Bxd2+,Nxd2,Qxd4,Bc4+,Kh8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/Fjwj2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJWke', 'Rapid', 'rcpipop', 1649, 'Bernd010565', 1639, 'd4,d5,Nf3,Bg4,Ne5,Nf6,Nxg4,Nxg4,h3,Nf6,e3,e6,c3,Be7,Bd3,Nbd7,Nd2,b6,O-O,O-O,Re1,c5,dxc5,bxc5,e4,dxe4,Nxe4,Qc7,Ng5,h6,Nf3,Rfd8,Bf4,Qb6,Qc1,Nd5,Bxh6,gxh6,Qxh6,N5f6,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/FJWke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJZSz', 'Rapid', 'Aleksej1973', 1785, 'thatisit', 1752, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d6,d4,exd4,Qxd4,Nf6,Bg5,Be7,Nc3,O-O,Rfe1,h6,Bh4,Bg4,Nd2,Rb8,e5,dxe5,Qxd8,Rbxd8,Bxf6,Bxf6,Nde4,Be7,f3,Be6,a3,f6,Na4,Rd5,c4,Rdd8,b3,Rd3,Nac5,Bxc5+,Nxc5,Rd6,Rad1,Kf7,a4,a5,Rxd6,cxd6,Nb7,Ke7,Nxa5,c5,Kf2,Kd7,Rd1,Kc7,Rb1,Ra8,b4,cxb4,Nb3,Bxc4,Nd2,Bd5,Rxb4,Kc6,Ke3,f5,h4,g5,Nb1,f4+,Kf2,Kc5,Rb2,Rxa4,hxg5,hxg5,Nc3,Ra8,Rb5+,Kc4,Rxd5,Kxc3,Rxd6,Rf8,Rd5,Rf5,Ke2,Kc4,Rd8,g4,fxg4,Rg5,Kf3,Kc5,Rd7,Kc6,Rd2,Kc5,g3,fxg3,Kxg3,Kc4,Kh4,Rg8,g5,e4,Kg4,e3,Rd6,e2,Re6,Kd3,g6', 'Rxg6+,Rxg6,e1=Q', 'https://lichess.org/training/FJZSz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJzT4', 'Rapid', 'alkolrai', 1882, 'Igor_Gorishniy', 1987, 'd4,g6,c4,Bg7,Nc3,e6,e4,Ne7,Nf3,O-O,Bg5,f6,Bf4,d6,Bd3,e5,dxe5,dxe5,Be3,Bg4,O-O,Nbc6,h3,Bxf3,Qxf3', 'Qxd3,Rfd1,Qxc4', 'https://lichess.org/training/fJzT4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FJzWN', 'Rapid', 'Pro100rus', 1859, 'Abhishekp', 1648, 'e4,f6,Nf3,e6,d4,d5,e5,f5,c4,Bd7,cxd5,exd5,Nc3,Be6,Bd3,Nc6,Ng5,g6,Nxe6,Qe7,Nxf8,Qxf8,Nxd5,O-O-O,Bg5,Rxd5,Bc4', 'Qb4+,Bd2,Qxc4', 'https://lichess.org/training/FJzWN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fJZzN', 'Rapid', 'kendoka', 2306, 'sodel', 2303, 'g3,d5,Bg2,c5,Nf3,Nc6,O-O,e5,d3,Nf6,e4,d4,Nbd2,Be7,a4,b6,Nc4,Qc7,b3,a6,Nh4,Be6,Nf5,Bxf5,exf5,O-O,Re1,Nd7,f4,f6,Qg4,b5,axb5,axb5,Rxa8,Rxa8,Na3,Rb8,Qf3,Nb4,Bd2,Qd6,Bxb4,cxb4,Qd5+,Qxd5,Bxd5+,Kf8,Nb1,Bd6,Bc6,Ke7,Nd2,Rb6,Bxd7,Kxd7,fxe5,Bxe5,Nf3,Kd6,Kg2,Ra6,Re2,Ra1,Nd2,Kd5,Ne4,h5,h4,Bc7,Nd2,Ra2,Nf3,Be5', 'c4+,bxc3,Rxa2', 'https://lichess.org/training/fJZzN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fK0j0', 'Rapid', 'Rialb', 1995, 'coolstar10', 1985, 'f4,e5,fxe5,d6,Nf3,Nc6,exd6,Bxd6,e4,Nf6,d4,Nxe4,Bb5,Bg4,O-O,O-O,Bxc6,bxc6,Nc3,Re8,Nxe4,Rxe4,Qd3,Bxf3,Qxf3,Qe7,Bd2,Re8,c3,Re2,Rf2,h6,Raf1,Rxf2,Rxf2,Qe6,Kf1,Qxa2,Qxf7+', 'Qxf7,Rxf7,Kxf7', 'https://lichess.org/training/fK0j0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fk0yt', 'Rapid', 'Obukh', 1707, 'rgc123', 1729, 'e4,c5,c3,e5,Bc4,Nf6,d3,Be7,Bd5,Nc6,Nf3,d6,Qa4,Qc7,O-O,O-O,h3,Bd7,Qb3,Na5,Qd1,Be6,c4,Nc6,b3,Nd4,Nxd4,cxd4,Bg5,Nxd5,cxd5,Bxg5,dxe6,fxe6,Qg4,Qe7,Na3,a6,Nc4,Rf4,Qh5,Raf8,g3,R4f7,h4,g6', 'Qxg5,Qxg5,hxg5', 'https://lichess.org/training/fk0yt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fk1xA', 'Rapid', 'aungphyominarsam', 1902, 'agusy22', 2107, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,Be3,Qc7,Qd2,b5,a3,Bb7,f3,Nc6,Nxc6,Bxc6,O-O,Be7,Rad1,O-O,Kh1,d5,exd5,Nxd5,Nxd5,Bxd5,Bd3,f5,Bf4,Qc6,Be5,Ra7,Qf2,Rd7,Qg3,Bf6,Rfe1,Bxe5,Rxe5,Bc4,Rde1,Bxd3,cxd3,Rf6,R5e3', 'f4,Qf2,fxe3', 'https://lichess.org/training/fk1xA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fK25w', 'Rapid', 'premuter', 1803, 'aobozkanov', 1890, 'd4,g6,e4,Bg7,Nf3,e6,d5,exd5,exd5,d6,Nd4,Ne7,Bc4,O-O,O-O,Nd7,Bb3,Nc5,c4,Nxb3,axb3,a6,Nc3,Nf5,Nf3,Nh4,Nxh4,Qxh4,f4,Qd8,Qf3,Bd7,Kh1,Re8,Bd2,f5,Rab1,Re7,Ne2,Qe8,Nc3,Qf7,Rbe1,Rae8,Qf2,c6,Rxe7,Rxe7,Re1,Rxe1+,Qxe1,Bxc3,Bxc3,cxd5,Qd2,dxc4,Qd4,Kf8,bxc4,Ke7,Be1,Bc6,Bh4+,Kd7,c5,d5,Qh8,d4', 'Qd8+,Ke6,Qd6#', 'https://lichess.org/training/fK25w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fK3Sy', 'Rapid', 'aranhaBR', 1770, 'Diyaa84', 1657, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Na5,O-O,Nxb3,axb3,c5,c4,d6,cxb5,a5,Bd2,Bg4,Nc3,Be7,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Kg2,h5,Rh1,h4,Qc1,h3+,Kg3,Qd7,Bg5,Bh5,Bxe7', 'Qg4+,Kh2,Qg2#', 'https://lichess.org/training/fK3Sy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fk5hP', 'Rapid', 'Naamafantti', 2242, 'mrTake2', 2233, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,g6,c3,Bg7,Re1,O-O,d4,Nxe4,dxe5,Nc5,Bf4,Ne6,Bxe6,fxe6,Qd2,Kh7,Na3,b6,Nb5,Bb7,Rad1,Rf7,Nbd4,Qf8,Bg3,Nxd4,Nxd4,a6,a3,c5,Nc2,Bc6,Ne3,b5,c4,b4,axb4,cxb4,Qd4,a5,c5,Qb8,Nc4,a4,Nb6,Ra5,Qxb4,Rb5,Qd4,Qa7,Nc8,Qxc5,Nd6,Qxd4,Rxd4,Rf8,Nxb5,Bxb5,Rb4,Bc6,Ra1,Ra8,Re1,Ra5,f4,g5,fxg5,hxg5,h4,Kg6,hxg5,Kxg5,Bf4+,Kg6,g3,Bf8,Rc4,Rb5,Rc2,Bc5+,Be3,Bb4,Bd2,Bc5+,Be3,Be7,Kf2,Rb3,Bd4,Rf3+,Ke2,Rxg3,Rg1,Rxg1,Bxg1,Kf5,Bc5,Bg5,Bd6,Bf4,Rc5,Bh2,Kd3,Bg1,Ra5,Bb6,Ra6', 'Bb5+,Kc3,Bxa6', 'https://lichess.org/training/fk5hP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FK7sC', 'Rapid', 'TbirdV', 1720, 'bizi111', 1730, 'd4,d5,c4,e6,e3,Nf6,Nf3,c6,Nc3,h6,Qb3,Be7,cxd5,exd5,h3,Nbd7,Bd3,Nb6,a4,a5,Ne5,Nfd7,Nxf7,Kxf7,Qd1,Nf6,Qf3,Rf8,Bh7,g6,e4,Kg7,Bxg6,Kxg6,Qg3+,Kh7,Qh4,h5,e5,Ng4,Qxh5+,Kg7', 'hxg4,Rh8,Bh6+,Rxh6,Qxh6+', 'https://lichess.org/training/FK7sC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FK9vC', 'Rapid', 'BellyScratcher', 1846, '____________', 1810, 'e4,c5,Nf3,e6,d4,a6,Be3,Qc7,Bd3,b6,dxc5,bxc5,c4,Bb7,O-O,Bd6,Nbd2,Nf6,h3,Nc6,b3,Ne5,Nxe5,Bxe5,Rc1,O-O,Nf3,Bxe4,Bxe4,Nxe4,Nxe5,Qxe5,Qxd7,Ng3,Rfe1,Nf5,Qd2,Rfd8,Qe2,Nd4,Qg4,f5,Qh4,Rd6,Kf1,Qf6,Qg3,Rad8,Bg5,Qg6,Bxd8,Qxg3,fxg3,Rxd8,Re5,Rc8,Kf2,Kf7,Ke3,Kf6,Kf4', 'g5+,Ke3,Kxe5', 'https://lichess.org/training/FK9vC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fKc1y', 'Rapid', 'vishal_pabari', 2043, 'GoDaddy', 2029, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,Nbd2,Bd6,Bg3,O-O,Be2,c5,c3,Nc6,O-O,Ne4,Bxd6,Qxd6,Nxe4,Bxe4,Bd3,Bxd3,Qxd3,c4,Qe2,h6,e4,dxe4,Qxe4,Ne7,Nd2,b5,f4,Nd5,Rae1,Rae8,Qf3,g6,Ne4,Qa6,a3,Qb6,Qh3,Kg7,Kh1,a5,g4,b4,axb4,axb4,f5,bxc3,bxc3,Qc6', 'f6+,Nxf6,Rxf6', 'https://lichess.org/training/fKc1y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fkck3', 'Blitz', 'younsi64', 1976, 'memccrea', 1943, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Bg5,a6,Bb3,d6,Nc3,O-O,Nd5,Be6,Nxf6+,gxf6,Bh6,Re8,Nh4,Kh8,Nf5,Bxf5,exf5,Nd4,Bxf7,Re7,Bg6,hxg6,fxg6,Qc8,Qh5,Kg8,O-O,Qf5,Qh4,Qxg6,Be3,Ne2+,Kh1,Rh7,Qe4,Rxh2+,Kxh2', 'Qh5+,Qh4,Qxh4#', 'https://lichess.org/training/Fkck3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fKdP0', 'Blitz', 'Daniloadjuto', 1923, 'Roddeo', 1871, 'e4,d5,Nf3,dxe4,Ng5,Nf6,d3,e6,Nc3,Be7,Ngxe4,Nxe4,Nxe4,Nc6,Bf4,e5,Be3,Be6,g3,f5,Nc5,Bxc5,Bxc5,Qd5,d4,Qxh1,f3,Qxh2,d5,Qxg3+,Ke2,Nd4+,Bxd4,exd4,Qxd4,Bd7,Re1,O-O,Kd2,Rae8,Be2,a6,Rg1,Rxe2+,Kxe2,Qh2+,Kd3,Bb5+,c4,Bxc4+,Kxc4,Qc2+,Kb4,Rf6,Qxf6,a5+,Ka3,Qc5+,Kb3,a4+,Kxa4,b5+,Kb3', 'Qc4+,Ka3,Qa4#', 'https://lichess.org/training/fKdP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKEli', 'Classical', 'Yakshwag', 1871, 'IsaacMengyuanWu', 1750, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,c3,O-O,d4,exd4,cxd4,Bb6,Re1,d5,e5,Ne4,h3,a5,Nc3,Nxc3,bxc3,Bf5,Bg5,Qd7,Nh4,Be6,Bc2,f5,exf6,gxf6,Bh6,Rfe8,Re3,Qf7,Rg3+,Kh8,Bg7+,Kg8,Bxf6+,Kf8,Rf3,Kg8,Qd3,Ne7,Be5,Qh5,Rg3+,Kf8,Nf3,Bf5,Qd2,Bxc2,Qxc2,Ng6,Rg5,Qh6,Qf5+,Kg8,h4,Rf8,Qg4,Kf7,h5,Nxe5,Nxe5+,Kf6,Nd7+,Kf7,Rg7+', 'Qxg7,Qf5+,Kg8', 'https://lichess.org/training/FKEli');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fKEM8', 'Rapid', 'RafaFS', 1612, 'arnoldotobon', 1601, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,d3,Bg4,h3,Bh5,Bg5,O-O,Nc3,c6,g4,Bg6,Nh4,h6,Nxg6,hxg5,Nxf8,Bxf8,d4,Qb6,dxe5,dxe5,b3,Nbd7,h4,Nc5,hxg5,Nfxe4,Nxe4,Nxe4,Qd7,Nxg5,Rfe1,Bc5,Rxe5', 'Nf3+,Kg2,Nxe5', 'https://lichess.org/training/fKEM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fKfLm', 'Blitz', 'NetleF', 2268, 'margim', 2204, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,c6,d4,Nf6,Bc4,Bg4,h3,Bxf3,Qxf3,Qxd4,Bb3,e6,Be3,Qb4,O-O-O,Be7,g4,O-O,h4,Qxg4,Qxg4,Nxg4,Rdg1,Nxe3,fxe3,Nd7,Ne4,Nf6,Ng5,h6,Nf3,Bc5,Nd4,Rfd8,c3,Nd5,Rg3,Kf8,Rhg1,g6,h5,g5,Rf1,Ke7,Rgf3,f5,e4,g4,R3f2,Ne3,Re1,Bxd4,cxd4,g3,Rf3,Ng2,Re2,fxe4,Rxg3,Nf4,Rxe4,Nxh5,Rxe6+,Kd7,Rgg6,Kc7,Rxh6,Nf4,Re7+,Kb6,Rhh7,Rxd4,Rxb7+,Kc5,Bc2,Nd3+,Bxd3,Rxd3,Kc2,Rad8,b4+,Kc4,Rbc7,Rd2+,Kc1,Rd1+,Kb2,R1d2+,Ka3', 'R8d3+,Ka4,Rxa2#', 'https://lichess.org/training/fKfLm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FkFr4', 'Blitz', 'OmNamaShivaYa', 1731, 'aydinergul_83', 1837, 'd4,d5,Bg5,Nf6,e3,Bf5,Bd3,Bg6,Bxg6,hxg6,Nf3,c6,Nbd2,Qb6,b3,Nbd7,O-O,Ne4,Bf4,f6,c4,g5,c5,Qd8,Bg3,Nxg3,fxg3,e5,dxe5,Bxc5,exf6,Bxe3+,Kh1,gxf6,Re1,Qe7,Qe2,d4,Nxd4', 'Rxh2+,Kxh2,Qh7+,Qh5+,Qxh5#', 'https://lichess.org/training/FkFr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkFWm', 'Rapid', 'Burli21', 1948, 'dr_zoydberg', 1792, 'c4,e5,Nc3,Bc5,d3,Nf6,Nf3,d6,Bg5,h6,Bxf6,Qxf6,g3,Be6,Bg2,Qd8,O-O,Nc6,a3,a5,Rb1,Nd4,Nxd4,exd4,Ne4,Rb8,Nxc5,dxc5,b4,cxb4,axb4,axb4,Rxb4,Qc8,Qa1,O-O,Qxd4', 'c5,Qb2,cxb4', 'https://lichess.org/training/fkFWm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKgC2', 'Rapid', 'Visnupadaja', 1867, 'sadegh2021', 1794, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,O-O,Bg5,h6,Bh4,d6,c3,Bg4,Nbd2,a6,b4,Ba7,a4,a5,b5,Nb8,Qb3,Nbd7,h3,Bh5,g4,Bg6,Bg3,Nc5,Qc2,Ne6,Nh4,Bh7,Nf5,Ng5,Kg2,g6,Ne3,Qe7,Nd5,Nxd5,exd5,f5,Bh4,fxg4,hxg4,Qd7,Bxg5,hxg5,Ne4,Qxg4+,Ng3,Rf7,d4,exd4,Bd3,Rg7,f3,Qf4,Rae1,Rf8,Re4,Qf6,cxd4,Bxd4,Rg4,Be5,Ne4,Qe7,Nxg5,Rf6,Nxh7,Rxh7,Bxg6', 'Rh2+,Kg1,Rxc2', 'https://lichess.org/training/FKgC2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKgs9', 'Rapid', 'Braganov', 1974, 'lavry', 1716, 'Nf3,Nf6,d4,g6,Bf4,Bg7,h3,O-O,e3,d6,Bd3,Nc6,O-O,Re8,Bg3,e5,dxe5,dxe5,Bb5,Ne4,Bh2,Qe7,Bxc6,bxc6,c3,Ba6,Re1,Rad8,Qc2,Bd3,Qa4,Rb8,b3,Bxb1,Raxb1,Nxc3,Qxa7,Nxb1,Rxb1,Ra8,Qb7,Qd6,Bg3,Rxa2,Nd4,Qc5,Nxc6,Qc2,Rf1,f6,Qxc7,Ra6', 'Ne7+,Rxe7,Qxc2', 'https://lichess.org/training/FKgs9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fKHpU', 'Rapid', 'Admirr', 1901, 'knighty-night', 1818, 'e4,e6,d4,d5,exd5,exd5,Nf3,Be6,Bd3,Nf6,O-O,Bd6,Bg5,h6,Bh4,g5,Bg3,Bxg3,hxg3,Ne4,Nbd2,Bf5,Re1,Nc6,Bxe4,dxe4,Nxe4,Bxe4,Rxe4+,Ne7,Qe2,Rh7,Ne5,f5,Re3,Qd6,c3,O-O-O,Nc4,Qf6,Re6,Qf7,Rxe7,Qxe7,Qxe7,Rxe7,Kf1,b5,Na3,a6,Nc2,Rde8,Re1,Kd7,Rxe7+,Rxe7,Ne1,Kd6,Nd3,Kd5,Nb4+,Kc4', 'b3+,Kxc3,Nd5+,Kxd4,Nxe7', 'https://lichess.org/training/fKHpU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FkIqN', 'Classical', 'telin', 1696, 'arturbalasyan10', 1684, 'e4,g6,d4,Bg7,Nf3,b6,Bc4,Bb7,Nc3,e6,Bg5,Ne7,Qd2,h6,Bh4,O-O,Ne5,g5,Bg3,Nbc6,Ng4,Nxd4,Nxh6+,Bxh6,Qxd4,d5,exd5,exd5,Bd3,c5,Qg4,f5,Qh5,Kh7,O-O,c4,Be2,f4,Rae1,fxg3,fxg3,a6,Bg4,Rxf1+,Rxf1,Qe8', 'Rf7+,Qxf7,Qxf7+', 'https://lichess.org/training/FkIqN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkJxO', 'Classical', 'Star_Hipnos', 2067, 'maksvv100', 1934, 'e4,d5,e5,d4,Bc4,e6,Nf3,c5,d3,a6,a4,Bd7,Bg5,Be7,Bxe7,Nxe7,Nbd2,Nbc6,Ne4,O-O,Nxc5', 'Qa5+,Qd2,Qxc5', 'https://lichess.org/training/fkJxO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fKk4j', 'Rapid', 'aymanmahmoud', 2125, 'sami_786', 2025, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nf6,Nf3,e6,Be2,Be7,O-O,cxd4,cxd4,Nc6,Nc3,Qd6,Nb5,Qd8,Bf4,Nd5,Bg3,a6,Nc3,Nxc3,bxc3,O-O,Bd3,b5,Rc1,Bb7,Bb1,Na5,Re1,Nc4,Qd3,g6,Ne5,Qd5,f3,Ba3,Rc2,Nb2,Qe3,Rac8,Bh4,Nc4,Nxc4,Rxc4,Bf6,Rfc8,Qh6,Bf8,Qe3,b4,Rec1,bxc3,Rxc3,Rxc3,Rxc3,Rxc3,Qxc3,Bg7,Bxg7,Kxg7,Be4,Qd7,Bxb7,Qxb7,d5+,Kf8,Qc5+,Kg7,d6,Qb1+,Kf2,Qxa2+,Kg3,Qd5', 'Qxd5,exd5,d7', 'https://lichess.org/training/fKk4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fKKoP', 'Blitz', 'H-badugers', 1716, 'simaomonteiro', 1705, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,c4,Qe6,Qa4+,Nc6,b4,Bxb4,a3,Bc5,Bb2,f6,Bd3,O-O,Be4,Nd4', 'Bd5,Nxf3+,gxf3,Kh8,Bxe6', 'https://lichess.org/training/fKKoP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkKt7', 'Rapid', 'Peshka19', 2015, 'johnsim03', 2010, 'e4,e6,d4,d5,e5,c5,Qg4,f5,Qg3,cxd4,a3,Nc6,Nf3,Bc5', 'Qxg7,Qe7,Qxh8', 'https://lichess.org/training/fkKt7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkLW6', 'Rapid', 'jamezad', 1869, 'monia1939', 1877, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,a6,Nc3,Bc5,d3,Nf6,Be3,Be7,d4,exd4,Nxd4,Nxd4,Bxd4,d6,Qf3,O-O,Nd5,Nxd5,Bxd5,c6,Bb3,Be6,Rfd1,Bxb3,cxb3,c5,Bxc5,Qc7,Bd4,Qc8,Qg3,g6,Qe3,Kh7,e5,Qe6,exd6,Qxe3,Bxe3,Bf6,d7,Bxb2,Rab1,Bf6,Bb6,Bd8,Bc5,Rg8,Rd3,b6,Be3,g5,Rc1,b5,Rc8,Bf6,Rxg8,Kxg8,Bb6,Bd8,Bc5,f6,g3,Kf7,Kg2,Be7,b4,Bd8,Kf3,Rb8,Kg4,Rb7,Kf5,Rc7,Bb6,Rc2,Bxd8,Rxf2+,Kg4', 'f5+,Kh3,g4+,Kh4,Rxh2#', 'https://lichess.org/training/fkLW6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKmqn', 'Blitz', 'Hasan_shdhan', 2145, 'gsorita', 2084, 'e4,e5,Bc4,Nf6,d3,Be7,h3,O-O,Nf3,d6,c3,c6,Be3,d5,exd5,cxd5,Bb3,Nc6,O-O,h6,Ba4,Bd6,Nbd2,Re8,Re1,Bf5,Nf1,Qa5,Bc2,e4,dxe4,Bxe4,Nd4,Ne5,Ng3,Bxc2,Qxc2,Bf8,Qf5,Ng6,Bxh6,Rxe1+,Rxe1,Qxa2,Bg5,Nh7,Bc1,Qc4,Ne6,fxe6,Qxg6,Bc5,Qxe6+,Kh8,Be3,Bxe3,Rxe3,Rf8,Nf5,Qf4,Rf3', 'Qc1+,Kh2,Ng5,Qxd5,Nxf3+', 'https://lichess.org/training/FKmqn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fKmtm', 'Blitz', 'DJmagnus85', 1823, 'm5262', 1796, 'e4,e6,d4,d5,Bd3,Nf6,Bg5,Be7,Nd2,h6,Bh4,dxe4,Bxf6,exd3,Bxe7,dxc2,Qxc2,Qxe7,Rc1,Nc6,Ngf3,O-O,O-O,Bd7,Rfe1,Rac8,d5,Nb4,Qc4,Nxd5,Qxd5,Bc6,Qd4,Rfd8,Qxa7,Ra8,Qe3,Rxa2,Qb3,Rda8,Nd4,Bd5,Qxd5,Rxb2,Qc4,Rd8,N2f3,Qf6,Qxc7,Rxd4,Nxd4', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/fKmtm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKner', 'Rapid', 'jb8a', 1904, 'brdaus1', 1922, 'e4,g6,d4,Bg7,Nf3,b6,c4,Bb7,Nc3,Nf6,Bd3,d6,O-O,Nbd7,Bg5,c5,e5,dxe5,dxe5,Bxf3,Qxf3,Nxe5,Qb7,Nxd3,Rad1,O-O,Nd5,Nxd5,Rxd3,f6,Rxd5,Qe8,Bf4,e6', 'Rd7,Qxd7,Qxd7', 'https://lichess.org/training/FKner');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKOKw', 'Blitz', 'alexalejochess', 1790, 'cas666', 2214, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nge2,O-O,Ng3,e5,d5,c6,Be2,cxd5,Nxd5,Nxd5,cxd5,Nd7,h4,h5,Bg5,Qb6,Qd2,Nf6,Bxf6,Bxf6,Bxh5,gxh5,Nxh5,Qd8,Qh6,Bh8,Rh3,Bxh3,gxh3,f5', 'Qg6+,Bg7,Qxg7#', 'https://lichess.org/training/FKOKw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkowi', 'Classical', 'slater126', 1820, 'Cardozoluc', 1796, 'e4,b6,d4,Bb7,Nc3,e6,f4,Bb4,Bd3,Nf6,Qe2,Nc6,Nf3,d6,a3,Bxc3+,bxc3,Ne7,a4,O-O,O-O,Rc8,a5,c5,axb6,axb6,Ba3,Ng6,Qd2,Nxe4,Bxe4,Bxe4,dxc5,bxc5,c4,Rc6,Bb2,d5,Rad1,Qb6,Rb1,Qc7,Ng5,f5,g3,Rd8,Nf3,h6,Bc3,Ra8,Rb5,Ra4,Rfb1,Bxf3,Rb7,Qd6,Rxg7+,Kf8,Rxg6,d4,Ra1,dxc3', 'Qxd6+,Rxd6,Rxa4', 'https://lichess.org/training/fkowi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FkP7Q', 'Classical', 'dodora', 1776, 'ChewbakaTheRookie', 1794, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,c3,Nc6,Bb5,a6,Bxc6+,bxc6,h3,h6,O-O,cxd4,cxd4,Qb6,Nc3,c5,Qb3,Qa7,Qa4+,Qd7,Qxd7+,Kxd7,Be3,cxd4,Bxd4,Ne7,Na4,Ke8,Rac1,Rc8,Rxc8+,Nxc8,Rc1,Kd7,Nb6+,Nxb6,Bxb6,g5,Nd4,Bg7,Nxf5,exf5,Rc7+,Ke6,Bd4,Bxe5', 'Rc6+,Kd7,Bxe5,Kxc6,Bxh8', 'https://lichess.org/training/FkP7Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkPCg', 'Rapid', 'Hrum', 1972, 'KingsGambit1', 1938, 'd4,Nf6,Nc3,g6,e4,d6,Bd3,Bg7,Be3,O-O,h4,e5,h5,Ng4,Qe2,Nxe3,Qxe3', 'exd4,Qd2,dxc3', 'https://lichess.org/training/fkPCg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkPxx', 'Classical', 'jastdreem', 1780, 'Jatoc', 1777, 'e4,e5,Bc4,Nf6,d3,Nc6,f4,d6,f5,Na5,Bb3,Nxb3,axb3,d5,Nc3,dxe4,dxe4,Qxd1+,Kxd1,b6,Nf3,Bb7,Nxe5,Bxe4,Nxe4,Nxe4,Re1,Nd6', 'Ng6+,Kd7,Nxh8', 'https://lichess.org/training/fkPxx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKQSu', 'Rapid', 'drawdonkey', 1956, 'bakulkopi', 1753, 'e4,e5,Nf3,d6,d4,Nd7,dxe5,dxe5,Bc4,Qe7,O-O,h6,Nc3,c6,Be3,Qf6,a3,Ne7,Ne1,Ng6,Qd2,Be7,f4,O-O,f5,Nf4,Bxf4,exf4,Qxf4,Ne5,Ba2,b5,Nf3,Bc5+,Kh1,Nxf3,Qxf3,Bd6,Rae1,Be5,Rd1,a5,Rd3,b4,Nd1,Ba6,c4,bxc3,Nxc3,Bxd3,Qxd3,Rad8,Qc2,Qh4,g3,Bxg3,f6,g6,Qg2,Be5', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/FKQSu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FkRnu', 'Blitz', 'BANG_BANG_ROX', 1872, 'bata1963', 1943, 'd4,c5,d5,e5,c4,d6,Nc3,f5,e4,f4,Nf3,Nf6,g3,fxg3,hxg3,Be7,Bg2,O-O,O-O,Bg4,Qb3,b6,Be3,Qd7,Rfe1,Na6,a3,Nc7,Qc2,Bh3,Bh1,Bg4,Reb1,Bxf3,Bxf3,Nfxd5,Nxd5,Rxf3,Nxe7+,Qxe7,Qe2,Raf8,Kg2,R3f7,b4,Ne6,bxc5,Nxc5,Bxc5,dxc5,Rf1,Qe6,a4,Rd8,a5,Rd4,axb6,axb6,Rfc1,Qd6,Rd1,Qe6,Rxd4,exd4,Ra6,Rb7,Qf3,Qxc4', 'Ra8+,Rb8,Rxb8#', 'https://lichess.org/training/FkRnu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FkRsv', 'Blitz', 'frappeboy', 2329, 'celtic11', 2435, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,O-O-O,d5,exd5,Nxd5,Nxc6,bxc6,Bd4,e5,Bc5,Be6,Ne4,Re8,h4,h6,g4,a5,g5,h5,a4,Qc7,Bc4,Red8,Qf2,Rab8,Bb3,Nf4,Bd6,Rxd6,Rxd6,Bxb3,cxb3,Rxb3,Rhd1,Nd5,Qc5,Qb7,Rd8+,Kh7,R1xd5,cxd5,Nf6+,Bxf6,gxf6,Rxb2', 'Rh8+,Kxh8,Qf8+,Kh7,Qg7#', 'https://lichess.org/training/FkRsv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkSP2', 'Blitz', 'Enrico4rebirth', 1946, 'Atxurbi', 1960, 'c4,c5,Nc3,d6,d3,e6,g3,f5,Bg2,Nf6,Bg5,Be7,e3,O-O,Nge2,Nc6,Rb1,h6,Bxf6,Bxf6,a3,e5,b4,cxb4,axb4,f4,exf4,exf4,Bd5+,Kh8,Bxc6,bxc6,Ne4,Bg4,Qd2,Bf3,O-O,Bxe4,dxe4,f3,Nd4,Bxd4,Qxd4,Qd7,Kh1,Rae8,c5,Qh3,Rg1,dxc5,Qxc5,Rf6,e5,Rf5,Qxc6', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/fkSP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkTq1', 'Rapid', 'Caractacus', 1976, 'manelleonescoda', 1906, 'd4,c5,d5,Nf6,c4,b5,cxb5,a6,bxa6,Bxa6,Nc3,g6,e4,Bxf1,Kxf1,d6,Nf3,Bg7,g3,Nbd7,Kg2,O-O,Re1,Qa5,Nd2,Rfb8,Nc4,Qa6,Qe2,Rb4,Na3,Qxe2,Rxe2,Rab8,Rb1,Ng4,h3,Nxf2,Rxf2,Bxc3,bxc3,Rxb1,Nxb1,Rxb1,Bb2,Ne5,Rc2,Nc4,Bc1,Kg7,Kf2,Kf6,Ke2,Ke5,Kd3,Nb6,c4,Na4,Bf4+,Kf6,Bc1,h5,h4,Nb6,Bb2+,e5,dxe6+,Kxe6,Bc1,Nd7,Rc3,Ne5+,Kd2,Ng4,a4,Ke5,a5,Ra1,Ba3,Nf2,Kc2,Nxe4,Rb3,d5', 'Bb2+,d4,Bxa1', 'https://lichess.org/training/fkTq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fKUhV', 'Rapid', 'mg_9696', 1858, 'SE92', 1884, 'd4,f5,c4,e6,Nc3,Nf6,Bg5,Bb4,Qc2,O-O,a3,Bxc3+,Qxc3,Qe8,Bxf6,Rxf6,O-O-O,a5,Nf3,d6,e3,Bd7,Bd3,c6,c5,dxc5,dxc5,Qe7,Bc2,Na6,Qxa5,e5,Bb3+,Be6,Bxe6+,Rxe6,b4,Nc7,Qb6,Nd5,Rxd5,cxd5,Qb5,Rxa3,Rd1,Rea6,Kd2,e4,Nd4,Rd3+,Ke1,Rxd1+,Kxd1,g6,g3,Kg7,c6,Ra1+,Kd2,bxc6,Qxc6,Qa7,Ne6+,Kf7,Ng5+,Kg7,Ne6+,Kh6,Nd4,Qa2+,Nc2,Qc4', 'Qxc4,dxc4,Nxa1', 'https://lichess.org/training/fKUhV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKUN9', 'Rapid', 'Sergei_Nov_1234', 1835, 'Khanjire888', 1846, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,e6,Qd2,a6,f3,Nf6,O-O-O,O-O,Bg5,Qb6,Nxc6,bxc6,h4,Rb8,Na4,Qb7,c3,Nh5,Nc5,Qa7,Be3,Qc7,Bxa6,Qa5,Bxc8,Qxa2,Qc2,Rbxc8,Nxd7,Rfd8,b4', 'Qa1+,Kd2,Rxd7+', 'https://lichess.org/training/FKUN9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKURf', 'Classical', 'Samteacher', 1781, 'lesswrong', 1752, 'e4,e6,Nf3,d6,d4,Be7,Nc3,a6,d5,e5,Be2,Nd7,O-O,Nf8,Be3,Bd7,Qd2,h6,Ne1,g5,Bh5,Nf6,Qe2,g4,Bxf7+,Kxf7,f4,Ke8,fxe5,dxe5,Nd3,Bd6,Qf2,N8h7,Bxh6,Rg8,Ne2,Qe7,Ng3,Kd8,a3,Be8,b4,b6,c4,Bg6,Rfe1,Kd7,c5,bxc5,bxc5,Rab8,cxd6,Qxd6,Nc5+,Kc8,Ne6,Bf7,Nf5,Qd7,Nfg7,Ne8,Rec1,Bxe6,Nxe6,Qd6,Qf7,Nhf6,Rc6,Qd7,Qxd7+,Kxd7,Nc5+,Kc8,Rxa6,Nd6,Re1,g3,h3,Nfxe4,Nxe4,Nxe4,Rc1,Rd8,Ra5,Rd6,Bg7,Rdb6,Kf1,Rb2,Bxe5,Rf2+,Kg1,Rc2,Rf1,Rb3,Ra8+,Kb7,Raf8,Nd6,h4,Rxa3,h5,Raa2,Bxg3', 'Rxg2+,Kh1,Rxg3,Rb1+,Ka7', 'https://lichess.org/training/FKURf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkUx2', 'Blitz', 'Eduardo-Fonseca', 1977, 'horuscope', 1966, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bb4,d3,O-O,O-O,d6,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,Bxc6,Bc5,Ba4,c6,Nc3,b5,Bb3,a5,a4,b4,Ne2,Bg4,Ng3,Qf6,h3,Bd7,Nh2,Qg6,Qf3,Kh8,Nf5,Qg5,Kh1,g6,Ng3,f5,c3,fxe4,Nxe4,Rxf3,Nxg5,Rxd3,Nf7+,Kg7,Rad1,Rxd1,Rxd1,Rf8,Nxd6,Rxf2,Ne4,Rxb2,Nxc5,Bf5,Be6,bxc3,Bxf5,gxf5,Ne6+,Kf6,Nc5,c2,Rc1', 'Rb1,Nb3,Rxb3,Nf1,Rb1,Rxc2,Rxf1+', 'https://lichess.org/training/fkUx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKVeC', 'Rapid', 'Mohamad_KH', 1835, 'CUl8rr', 1839, 'd4,d5,Nf3,Nf6,c4,c6,e3,e6,Nc3,Nbd7,cxd5,cxd5,Bb5,a6,Qa4,Qb6,Ne5,Be7,Bxd7+,Bxd7,Nxd7,Nxd7,e4,dxe4,Nxe4,O-O,Qxd7,Bb4+,Nc3,Rad8,Qa4,Qxd4,Be3', 'Bxc3+,bxc3,Qxa4', 'https://lichess.org/training/FKVeC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fKvFR', 'Rapid', 'rog2013', 1861, 'DGV63', 1928, 'd4,d5,Bf4,Bf5,e3,Nf6,c3,e6,Nf3,h6,Qb3,Qc8,Ne5,c6,Qd1,Nbd7,Bd3,Nxe5,Bxf5,exf5,Bxe5,Ne4,Nd2,Qe6,Nf3,Bd6,Bxg7,Rg8,Bxh6,Qxh6,O-O,Qxh2+,Nxh2,Rh8,g3,O-O-O,Nf3,Rdg8,Ne5,f6,Nf3,Nxg3,fxg3,Bxg3,Qd3', 'Be1+,Ng5,Rxg5#', 'https://lichess.org/training/fKvFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKW5z', 'Rapid', 'Sagomaldo', 1819, 'CDABANCR', 1626, 'e4,e5,Bc4,Nf6,d3,Bc5,Bg5,O-O,Nf3,d6,h3,h6,Bh4,Nc6,O-O,Na5,Bb3,g5,Nxg5,hxg5,Bxg5,Nxb3,axb3,Kg7,Nc3,Qd7,Bxf6+,Kxf6,Nd5+,Kg7,b4,c6,bxc5,cxd5,exd5,dxc5,f4,Qxd5,fxe5,Qxe5,Qf3,f5,Ra4,Rf6,Rh4,Be6', 'Qxb7+,Bf7,Qxa8', 'https://lichess.org/training/FKW5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkWfh', 'Blitz', 'wonstepahead', 1651, 'parszek', 1645, 'e4,e5,Nc3,Bc5,Nf3,d6,Bc4,Ne7,O-O,O-O,d3,Ng6,a3,Be6,b4,Bb6,a4,Bxc4,dxc4,c6,Bb2,f5,exf5,Rxf5,Ne4,d5,Ng3,Rf4,Nxe5,Nxe5,Bxe5,Rxc4,Nh5,Nd7,Bxg7,Qg5,a5,Bc7,c3,Rg4,Nf6+,Nxf6,Bxf6', 'Rxg2+,Kh1,Rxh2#', 'https://lichess.org/training/fkWfh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FkWqa', 'Rapid', 'abcdefgh2020', 2167, 'nietzschesghost', 2266, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,b6,Bg5,Bb7,e3,Be7,Bd3,Nbd7,O-O,O-O,Qe2,c5,Rfd1,h6,Bf4,Rc8,dxc5,bxc5,Nb5,Qb6,Rac1,a6,Nc3,Rfe8,Na4,Qb4,b3,Bd8,Bb1,e5,Bg3,d4,Nb2,e4,Nh4,d3,Bxd3,exd3,Nxd3,Qb6,Nf5,Qc6,f3,Bc7,e4,Bxg3,hxg3,Rcd8,Nf4,Nf8', 'Rxd8,Rxd8,Ne7+', 'https://lichess.org/training/FkWqa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKWr4', 'Rapid', 'Protopych', 1827, 'UltimateDespair', 1838, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Bd2,Qb6,Bc3,Bc5,Qf3,Nf6,Bxf6,gxf6,Qxf6,Qb4+,Nd2,Bd4,Qf4,Qxb2,Rd1,Qxc2,Be2,Qxa2,O-O,Bg7,Bh5,e5,Qg3,Rg8,Nf3,Ba6,Ra1,Qc4,Nxe5,Qd4,Bxf7+,Ke7,Qa3+,Kd8,Qxa6,Rf8,Qb7,Qxe5,Qxa8+,Ke7,Qxa7,Rxf7,Rac1,Qd6,Rfd1,Qf4,Qxd7+,Kf6,Qxc6+,Kg5,f3,Be5,h3,Qh2+,Kf1,Qh1+,Ke2', 'Qxg2+,Kd3,Qxf3+,Kc4,Rc7,Qxc7,Bxc7', 'https://lichess.org/training/FKWr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkX1n', 'Rapid', 'bjak302', 1713, 'Kureyuki1', 1639, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,Nc3,Ne7,Be2,Nc6,Qd1,Bb4,Bd2,O-O,a3,Be7,Be3,a6,Qd2,b5,O-O,b4,axb4,Bxb4,Bf4,e5,Be3,a5,f4,f6,fxe5,fxe5,Qd5+,Kh8,Bc5,Bxc5+,Qxc5,Qe7', 'Rxf8+,Qxf8,Qxf8#', 'https://lichess.org/training/fkX1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKX6m', 'Classical', 'pedrocavallo', 1752, 'Latarnik', 1930, 'c4,c6,Nf3,d5,cxd5,cxd5,g3,Nf6,Bg2,e6,Nc3,a6,O-O,Bd6,d3,h6,Bd2,O-O,Rc1,Nc6,a3,Bd7,Be3,Ne5,Nxe5,Bxe5,Bd2,Bc6,e3,d4,Bxc6,dxc3,Bxc3,Bxc3,Rxc3,bxc6,Rxc6,Qd5,Qc2,Rfb8,Rc1,Qb3,h3,Qxb2', 'Rc8+,Rxc8,Qxb2', 'https://lichess.org/training/FKX6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fkx70', 'Rapid', 'Svet_int', 1794, 'FalleN666', 1777, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e5,Nf3,Nc6,Bc4,Be7,Nd5,Nf6,Qe2,O-O,O-O,b6,Rd1,Bb7,Nxe7+,Qxe7,Bg5,Rac8,Bd5,h6,h4,hxg5,hxg5,Nxd5,exd5,f6,dxc6,Bxc6,g6,e4,Nh4,f5', 'Qh5,Qxh4,Qxh4', 'https://lichess.org/training/fkx70');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fKY07', 'Blitz', 'Ne_Pridymal_Nik', 2643, 'IM SpiderMoves', 2688, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nf3,Qe7,Qe2,Nc6,d4,O-O-O,d5,Qb4+,Nc3,Bc5,a3,Qb3,dxe6,Rhe8,g3,Ng4,Bh3,h5,O-O,Rxe6,Be3,f5,Rad1,Rde8,Nd5,g6,Rd3,Qxc4,Nxc7,Rxe3,Rxe3,Qxe2,Rxe8+,Qxe8,Nxe8,Kd7,Ng7,Ke7,Bxg4,hxg4,Re1+,Kf7,Ne5+,Kxg7,Nxc6,bxc6,Rc1,Bd4,Rxc6,Bxb2,Rc7+,Kf6,Rxa7,f4,a4,Bd4,Ra6+,Kf5,Kf1,g5,Ra8,Ke4,a5,Kf3,a6,Bxf2,a7,Bc5,Ke1,Bf2+,Kd2,Bg1,Kd3,Kg2,Ke4,f3,Rd8,Bxa7,Kf5,f2,Rd2', 'Kh3,Rd1,Be3', 'https://lichess.org/training/fKY07');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKYEj', 'Rapid', 'Hayk95s', 1846, 'julikonly', 1849, 'e4,Nc6,Nf3,g6,Bc4,Bg7,O-O,d6,Ng5,Nh6,d3,O-O,f4,e5,Nc3,Na5,Bb3,Nxb3,axb3,Bg4,Qe1,c6,fxe5,dxe5,Be3,Qe7,Qd2,f5,exf5,Nxf5,Nce4,h6,Nf3,Bxf3,Rxf3,Nxe3,Qxe3,Rxf3,Qxf3,Rf8,Qe2,a6,Rf1,Rf5,Ng3,Qc5+,Kh1,Rxf1+,Nxf1,Qd4,c4,Qb6,Qd1,Qd4,Qe2,Qb6,Nd2,Kh7,h3,a5,Qf3,a4,bxa4,Qxb2,Ne4,Qa1+,Kh2,Qxa4,Qf7,Qa8,Nd6,b5', 'Ne8,Qxe8,Qxe8', 'https://lichess.org/training/FKYEj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FKZqB', 'Classical', 'Momme', 1605, 'Hasibrocks', 1652, 'd4,Nf6,Bf4,d5,e3,Nc6,c3,Bf5,Nf3,e6,Nbd2,Bd6,Bg3,O-O,Nh4,Bg4,Qb3,Bxg3,hxg3,Na5,Qa4,c6,f3,b5,Qd1,Bf5,Nxf5,exf5,Bd3,g6,Qe2,Rb8,O-O-O,Nc4,Nb3,a5,Nc5,a4,g4,Qa5,g5,Nh5,Nd7,Ng3,Qf2,Nxh1,Rxh1,a3,b3,Qxc3+,Bc2,Nxe3', 'Nf6+,Kg7,Rxh7#', 'https://lichess.org/training/FKZqB');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 14;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet15 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fl35n', 'Classical', 'ibo', 1781, 'hakan-1234', 1755, 'b3,d5,Bb2,Nc6,f4,Nf6,Nf3,g6,e3,Bg7,c4,dxc4,Bxc4,e6,O-O,O-O,Ba3,Re8,Bb2,a6,Nc3,b5,Be2,Bb7,Ne5,Nxe5,fxe5,Nd5,Nxd5,Qxd5', 'Bf3,Qd3,Bxb7', 'https://lichess.org/training/Fl35n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FL3lk', 'Rapid', 'MarkiianUkr', 1791, 'edelyn', 1800, 'e4,e6,Bb5,c6,Ba4,Qg5,Qf3,d5,exd5,exd5,h4,Qe5+,Ne2,Nf6,d4,Qe4,Qg3,Be7,Bg5,O-O,Nc3,Qf5,O-O-O,a5,a3,b5,Bb3,a4,Ba2,b4,axb4,Bxb4,Rd3,a3,b3,Ne4,Nxe4,dxe4,Re3,Ba6,Bh6,Qg6,Bg5,h6,Qh3,Bc8,Qh2,hxg5,hxg5,f5,c3,Be6,Nf4,Bd6,Qh8+,Kf7,Qxf8+', 'Bxf8,Nxg6,Kxg6', 'https://lichess.org/training/FL3lk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fL5Um', 'Blitz', 'IM SchekachikhinMaksim', 2521, 'AlexS1993', 2503, 'Nf3,d5,e3,Nf6,c4,e6,Nc3,Be7,b3,O-O,Bb2,c5,cxd5,exd5,d4,Nc6,Be2,Bg4,dxc5,Bxc5,O-O,a6,Rc1,Ba7,Nd4,Be6,Na4,Rc8,Nxc6,Rxc6,Rxc6,bxc6,Bxa6,Ne4,Bd3,f6,Nc3,f5,Ne2,Bd7,Qc2,Qe7,Bd4,c5,Bb2,Bc6,Nc3,d4,exd4,cxd4,Nxe4,Bxe4,Rd1,Rd8,Qe2,Qb7,f3,Bxd3,Qxd3,g6,Re1,Kg7,h4,h5,Qd2,Rd7,Qg5,Kh7,Kh1,Bc5,Re6,Rg7,Bc1,Qd7,Qh6+,Kg8,Rxg6,d3,Rxg7+,Qxg7,Qxg7+,Kxg7,Bd2,Kf6,g3,Ke5,Kg2,Kd4,Kf2,Ba3,Ke1,Bb2,Kd1,Ba3,b4,Kc4,f4,Kb5,Ke1,Kc4,Kf2,Kb5,Ke3,Kc4,b5', 'Bc5+,Kf3,Kxb5', 'https://lichess.org/training/fL5Um');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fl66H', 'Rapid', 'olemartin', 1759, 'tane00', 1619, 'e4,e5,d4,f6,Nf3,Bd6,Bc4,a6,O-O,b5,Bxg8,Rxg8,c3,Qe7,Nh4,g6,Nd2,Nc6,Nb3,a5,Bh6,Nd8,Qd2,a4,Nc1,a3,bxa3,Rxa3,Ne2,Ba6,Rfd1,Ra4,Be3,exd4,Bxd4,Qe6,Ng3,Kf7,e5,fxe5,Ne4,exd4', 'Ng5+,Kg7,Nxe6+', 'https://lichess.org/training/Fl66H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fL6Pu', 'Blitz', 'paulll', 1849, 'Zonthoria', 2199, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Qc7,Nc3,Nf6,Bd3,Bb4,Bd2,d6,O-O,O-O,a3,Bxc3,Bxc3,Nbd7,Re1,b6,Qe2,Bb7,Rad1,Rac8,f4,Nc5,e5,dxe5,fxe5,Nfd7,Qh5,Nxd3,Rxd3,g6,Qh6,Nxe5,Rh3,f6,Nxe6,Qd7,Bxe5,fxe5,Nxf8,Rxf8,Rhe3,e4,Qg5,Qd2,b4', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/fL6Pu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fl6zY', 'Blitz', 'Python64', 1931, 'tcharge', 1953, 'd4,e6,c4,c5,d5,d6,Nc3,exd5,Nxd5,Nf6,Nf3,Nxd5,cxd5,Be7,e4,O-O,Be2,Bf6,O-O,Nd7,Bf4,Qb6,Rb1,Ne5,Nxe5,dxe5,Be3,Bd7,Qc2,Rac8,Rfc1,Be7,b3,a5,a4,Bd6,Bd2,f5,Bd3,f4,Qc3,Ra8,Qb2,Rfc8,Bc3,Qc7,Qd2,Be8,Kh1,Qe7,Bxa5,Bh5,Bc3,f3,g3,Qd7,Qg5,Qh3,Rg1,h6,Qe3,Rf8,Bb5,Bg4,Qd2,Qh5,Qb2,Bh3,Bf1,Bg4,Qa1,Qg6,Bxe5,Bxe5,Qxe5,Rfe8,Qc7,Qxe4,Rd1,Qc2,Rd3,Re1,d6,Qc1,d7,Bxd7,Qxd7,Rxf1,Rd1,Rxg1+,Kxg1,Qg5,Qe6+,Kh8,h4,Qh5,Rd7,Re8,Qd6,Re1+,Kh2,Qf5,Qc7', 'Rh1+,Kxh1,Qh3+,Kg1,Qg2#', 'https://lichess.org/training/Fl6zY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fL7GX', 'Blitz', 'diealayon', 1722, 'SlakterT', 1734, 'd4,d5,Bf4,Bf5,c4,e6,a3,Bd6,Bg3,Nf6,Bh4,O-O,cxd5,exd5,e3,Bxb1,Qxb1,Be7,Bd3,Nbd7,Nf3,Ne4,Bg3,Ndf6,O-O,Nxg3,fxg3,Ng4,Bxh7+,Kh8,Qd3,g6,Ne5,Kxh7,Rxf7+,Rxf7', 'Qxg6+,Kh8,Nxf7#', 'https://lichess.org/training/fL7GX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fl7nr', 'Rapid', 'Gambit-Dame', 1738, 'eddytanya', 1724, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,b3,Nge7,Bd3,Nf5,Bxf5,exf5,O-O,Be7,Be3,Be6,Nbd2,h6,Rb1,O-O,Re1,g5,Nf1,f4,Bc1,cxd4,Nxd4,Bc5,Bb2,Rae8,Kh1,Ne7,Qh5,Kh7,Nd2,Nf5,N2f3,Ng7', 'Nxg5+,Kg8,Qxh6', 'https://lichess.org/training/fl7nr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fl9mo', 'Rapid', 'jhonsky', 1969, 'wrOnG1111', 1991, 'a3,e5,c4,c5,Nc3,Nc6,e4,Nf6,Nf3,d6,h3,Be7,Be2,O-O,O-O,Ne8,d3,f5,Nd5,Nf6,Nxe7+,Qxe7,Bg5,h6,Bxf6,Qxf6,Nd2,f4,Bg4,Nd4,b4,b6,bxc5,dxc5,Bxc8,Raxc8,Nf3,g5,Nxd4,exd4,Qg4,Rcd8,a4,a5,Rab1,Rd6,Rfe1,Qe6,Qh5,Kg7,f3,Qg6,Qg4', 'h5,Qf5,Rxf5', 'https://lichess.org/training/Fl9mo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fLaRE', 'Classical', 'SCRA', 1764, 'Bijaan', 1825, 'd4,g6,c4,Bg7,Nc3,Nf6,Nf3,O-O,h4,h5,Bg5,d6,e3,c6,g3,Qb6,a3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/fLaRE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FLbWY', 'Rapid', 'mitsos1ps', 1882, 'kais1978', 1855, 'd4,g6,Bf4,Bg7,e3,d6,Bd3,Nf6,c3,O-O,Qc2,c6,Nd2,d5,Ngf3,Re8,h3,a6,O-O,e6,Rfe1,Nbd7,Ne5,Nh5,Bh2,Nxe5,dxe5,Bh8,Nf3,Ng7,e4,Qc7,exd5,exd5,c4,dxc4,Bxc4,Ne6,Rad1,b5,Bb3,Bb7,Rd6,c5,a3,c4,Ba2,Bg7,Red1,Qc5,Qe2,Bf8,Rd7,Bc6,R7d2,Rac8,Qe3,Qe7,Qb6,Nc5,Nd4,Bb7,b4,Ne4,Rc2,Red8,f3,Ng5,Rcd2,Ne6,Ne2,Rc6,Qa7,Rcc8,Rxd8,Nxd8,Qb6,Rc6', 'Qxd8,Qxd8,Rxd8', 'https://lichess.org/training/FLbWY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FLdzA', 'Blitz', 'ChessterBlitzMan', 1873, 'Hottoberman', 1908, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Nbd7,Qf3,Qc7,O-O-O,Be7,g4,b5,Bxf6,Bxf6,g5,Bxd4,Rxd4,Bb7,Bg2,Rc8,Rhd1,b4,Rxd6,bxc3,Rxd7,cxb2+,Kxb2,Qxc2+,Ka1,O-O,Rxb7,Rc3,Qf1,Ra3,Rb2,Qc3,Rb1,Rb8,Qf2', 'Rxa2+,Kxa2,Qa5#', 'https://lichess.org/training/FLdzA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FLEn8', 'Blitz', 'GM Uzbek005', 2760, 'GM Night-King96', 2733, 'e4,c5,Nc3,g6,Nge2,Bg7,d4,cxd4,Nxd4,d6,Be3,Nf6,f3,a6,Bc4,b5,Bb3,Bb7,Qd2,h5,O-O-O,Nbd7,Rhe1,Rc8,Kb1,Ne5,Nd5,Nxd5,exd5,Nc4,Bxc4,Rxc4,Nb3,O-O,Na5,Bc3,bxc3,Qxa5,Bd4,Bxd5,Rxe7,Rc7', 'Qh6,Qxa2+,Kc1,Qa3+,Kd2,Qxc3+,Bxc3', 'https://lichess.org/training/FLEn8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FlePh', 'Rapid', 'Dhiren30', 1895, 'bigsylvester', 1844, 'e4,c5,Bc4,e6,Nc3,Nc6,d3,h6,Nf3,d6,O-O,Nf6,h3,Be7,Bb5,Bd7,d4,cxd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,O-O,e5,dxe5,Qxe5,Bd6,Qe2,Qc7,Be3,a6,Rad1,Rad8,Qf3,b5,Kh1,Be5,Bxh6,gxh6,Rfe1,Ne8,Rxd8,Bxc3,Rxe8,Bxe1', 'Qg4+,Kh7,Rxf8', 'https://lichess.org/training/FlePh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FLFnD', 'Rapid', 'User404', 1949, 'pacolm', 1983, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,d4,Nf6,Be2,Nc6,Bd2,O-O-O,Nb5,Qb6,a4,Bxf3,gxf3,Nxd4,a5,Qe6,Nxa7+,Kb8,Ra3,Kxa7,a6,Nxe2,Be3+,b6,Qxd8,Qc6,Kxe2,e5,Rc3,Qb5+,Qd3,Qxd3+,cxd3,Bd6,Rg1,g6,d4,Nd5,Rcc1,exd4,Bxd4,Re8+,Kf1,Bxh2,Rh1,Bf4,Ra1,h5,Kg2,Re2,Rhe1,Rc2,b4,Nxb4,Re7,f6', 'Bxb6+,Kxb6,a7', 'https://lichess.org/training/FLFnD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flhHv', 'Blitz', 'IM Klimenko_Sergey_IM', 2317, 'datrebil', 2219, 'e4,g6,d4,Bg7,Nc3,d6,Be3,a6,f3,Nf6,Qd2,O-O,Bh6,c5,Nge2,cxd4,Nxd4,Nc6,Bxg7,Kxg7,h4,h5,O-O-O,Nxd4,Qxd4,Be6,Bc4,Bxc4,Qxc4,Rc8,Qd4,Qc7,g4,hxg4,fxg4,Qc5,g5,Qxd4,Rxd4,Ng4,Nd5,Rfe8,h5,gxh5,Rxh5,e6,Nf6,Nxf6,gxf6+,Kxf6,Rxd6,Ke7,Rb6,Rc7,Rh3,Rec8,c3,Rg8,Rd3,Rg4,Rd4,Rg2,Rdb4,Re2,Rxb7,Rxb7,Rxb7+,Kf6,Ra7,Rxe4,Rxa6,Ke5,Ra5+,Kd6,Ra6+,Kc5,Ra5+,Kb6,Rh5,f5,Kd2,f4,b4,e5,a4,f3,Rh6+,Kc7,Rf6,Re2+,Kd1,e4,a5,Ra2,Rf4', 'f2,Rxf2,Rxf2', 'https://lichess.org/training/flhHv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fLhKs', 'Rapid', 'Timo2222', 1786, 'mohsen39340', 1790, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Bc4,O-O,h4,Bg4,g3,c6,Qd3,d5,Ng5,Bxg5,hxg5,dxc4', 'Qxh7#', 'https://lichess.org/training/fLhKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flHuW', 'Blitz', 'FM ABIMBOLA-OSUNFUYI', 2386, 'jozarov', 2364, 'c4,g6,d4,Bg7,e4,d6,Nc3,Nf6,g3,O-O,Bg2,e5,d5,a5,Nf3,Na6,O-O,Nc5,Re1,Ne8,Bg5,Bf6,Bh6,Ng7,h3,Be7,Be3,b6,g4,f5,exf5,gxf5,Bxc5,bxc5,gxf5,Nxf5,Ne4,Kh8,Kh2,Rg8,Rg1,Bf6,Bh1,Nd4,Rxg8+,Kxg8,Nxd4,exd4,Qh5,Be5+,f4,Bxf4+,Kg2,Kh8,Rg1,Bd7,Kf3,Qf8,Ke2,Be3,Rf1,Qg7,Nf6,Rf8,Nxd7,Rxf1', 'Qe8+,Qg8,Qxg8+,Kxg8,Kxf1', 'https://lichess.org/training/flHuW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FLI3H', 'Classical', 'Nugen', 1758, 'neilk2010', 1828, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,Bxc3+,bxc3,d5,e3,c6,cxd5,Nxd5,Bb2,Nd7,Bd3,Qb6,Qc2,h6,O-O,c5,Rab1,Qa5,c4,N5f6,Bc3,Qc7,h3,b6,Nd2,Bb7,Ne4,Qc6,Nxf6+,Nxf6,f3,cxd4,Bxd4,Ke7,Qc3,Ba6,Bxf6+,gxf6,Qb4+,Qc5,Qxc5+,bxc5,Rfc1,Rab8,Kf2,Rhd8,Rb3', 'Rxb3,axb3,Rxd3', 'https://lichess.org/training/FLI3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flIb3', 'Classical', 'desertpawn', 1695, 'fileblack', 1794, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Qe7,h3,Ngxe5,e3,d6,Qe2,Be6,Qd1,Nxc4,Nd4,Nxd4,exd4,O-O,Be2,Na5,O-O,Bxc3,bxc3,Bc4,Re1,Bxe2,Rxe2,Qd7,Qd2,Nc4,Qd3,Nb6,Qg3,Kh8,Rae1,Rfe8,Qf3,c6,Qg3,Nc4,Rxe8+,Rxe8,Rxe8+,Qxe8,Bxd6,Qe1+,Kh2,Nd2,h4', 'Nf1+,Kh3,Nxg3', 'https://lichess.org/training/flIb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flijd', 'Rapid', 'latosyn', 2046, 'ventalia', 1969, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,dxc4,e3,c5,Bxc4,cxd4,exd4,Be7,O-O,Nc6,Re1,O-O,a3,a6,Bf4,b5,Bd3,h6,Qd2,Bb7,Rad1,Rc8,h3,b4,axb4,Bxb4,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/flijd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FlIsf', 'Rapid', 'SkyShoedHorse', 2070, 'Mgass', 2079, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,h3,e6,Bd3,Be7,Bf4,Qb6,b3,Nc6,c3,O-O,O-O,h6,Nbd2,Bd7,Re1,Ba3,Rb1,Rac8,c4,Nxd4,Be5,Nxf3+,Qxf3,Qd8,cxd5,exd5,Bxf6,Qxf6,Qxd5,Rcd8,Ne4,Qh4,b4,Bxh3,Qb3,Bxb4,Qxb4,Rxd3,gxh3,Rxh3,Ng3,Qg5,Qxb7,h5,Qe7,Qf4,Qe4,Qg5,Qf5', 'Rxg3+,fxg3,Qxf5', 'https://lichess.org/training/FlIsf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fLjVW', 'Rapid', 'Tmb86', 1910, 'aydinaydan', 2027, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,d5,exd5,exd5,Bb5,Bd7,O-O,a6,Ba4,Nf6,Re1,Be7,c3,O-O,Bc2,Re8,h3,Bd6,Bg5,Nxd4,cxd4,Rxe1+,Qxe1,h6,Bh4,g5,Bg3,Bxg3,fxg3,Qb6,Qf2,Re8,Nc3,Qd6,Rf1,Kg7,Nxd5,Qxd5,Qxf6+,Kg8,Qxh6,Qxd4+,Kh2,Qg7,Qd6,Bc6,Bb3,Re2,Bxf7+,Qxf7,Rxf7,Rxg2+,Kh1,Rxg3+,Qxc6,bxc6,Kh2', 'Rxh3+,Kxh3,Kxf7', 'https://lichess.org/training/fLjVW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flKf3', 'Classical', 'copla', 1941, 'khugsal', 1975, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,Bxc3+,bxc3,c5,e3,d6,Nf3,Nbd7,Bd3,Qa5,Qc2,O-O,O-O,h6,Bh4,Re8,d5,e5,Nd2,Qc7,f4,exf4,Rxf4,g5,Ne4,gxf4', 'Nxf6+,Nxf6,Bxf6', 'https://lichess.org/training/flKf3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FLKJR', 'Blitz', 'Respink', 2383, 'u1rick', 2349, 'Nf3,f5,d4,Nf6,c4,e6,Nc3,Bb4,Qb3,a5,g3,Nc6,Bg2,a4,Qc2,a3,O-O,axb2,Bxb2,O-O,d5,Na5,Nd2,e5,Rad1,d6,a3,Bxc3,Qxc3,b6,h3,Ba6,f4,e4,e3,Qe7,Kh2,h6,Rg1,Kh7,Bf1,Bc8,Be2,g5,Rdf1,g4,hxg4,fxg4,Kg2,Bf5,Rh1,Kg6,Rh2,h5,Rfh1,Rh8,Nb3,Nxb3,Qxb3,Rh7,Qc3,Nd7,Bd1,Nc5,Bc2,Nd3,Bxd3,exd3,Re1,Qe4+,Kg1,Rf8,Rd2,h4,gxh4,Rxh4', 'Qg7+,Kh5,Qg5#', 'https://lichess.org/training/FLKJR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flmjR', 'Classical', 'alex1976al', 1609, 'sabriel', 1786, 'd4,c6,e4,Qa5+,Bd2,Qb6,Bc3,Nf6,Nd2,d5,e5,Ne4,Nxe4,dxe4,Bc4,h5,f3,c5,fxe4,cxd4,Bxd4', 'Qb4+,Bc3,Qxc4', 'https://lichess.org/training/flmjR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FLMMn', 'Blitz', 'pokkermon', 1809, 'edbaissi', 1827, 'e4,e6,f4,d5,e5,c5,g3,Nc6,Bg2,Nge7,c3,b5,d4,c4,b3,Bb7,bxc4,bxc4,Nd2,Nf5,Ndf3,Qa5,Ne2,Ba3,Bd2,O-O,O-O,Qd8,g4,Nh4,Nxh4,Qxh4,h3,f5,Be1,Qe7,g5,Nd8,h4,Nf7,Kf2,h5,gxh6,Nxh6,Kg1,Ng4,Bf2,Nxf2,Rxf2,Qxh4,Rf3,Rab8,Qf1,Bc6,Bh1,Rb2,Qg2,Rfb8,Rg3,Rxe2,Rxg7+,Kf8', 'Rg8+,Ke7,Qg7#', 'https://lichess.org/training/FLMMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flNoQ', 'Blitz', 'NNicole2002', 2194, 'FM SereFra99', 2466, 'e4,d6,Nc3,Nf6,Bc4,c6,d3,d5,exd5,cxd5,Bb3,Nc6,h3,g6,Nge2,Bg7,O-O,O-O,Bf4,e5,Bg5,Be6,Qd2,d4,Ne4,Nxe4,dxe4,Qd7,Bh6,a5,Bxg7,Kxg7,Ng3,a4,Bxe6,Qxe6,a3,f6,f4,exf4,Qxf4,Rac8,Rf2,Qe5,Qg4,Qe7', 'Nf5+,Kh8,Nxe7', 'https://lichess.org/training/flNoQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fLOgw', 'Rapid', 'Leolik', 1699, 'VonManstein25', 1677, 'e4,e5,Bc4,Nf6,Nc3,c6,Nf3,d5,exd5,cxd5,Bb3,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Bxd5,Nc6,Rh4,Bxf3,Qxf3,Qxh4,Qxf7+,Kd8,Nb5,Qe7,Qf3,a6,Bxc6,bxc6,Qxc6,axb5,Qxa8+,Kd7,Qb7+,Ke8,Qxb5+,Kf7,Qd5+,Ke8,d3,Qf6,Be3,Bd6,Qa8+,Qd8,Qd5,Rf8,O-O-O,Rf6,Bg5,e4,Bxf6', 'Bf4+,Kb1,Qxd5', 'https://lichess.org/training/fLOgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fLols', 'Rapid', 'jeanjacques5', 1651, 'PaMeirelles', 1622, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Nd7,Bg5,f6,exf6,Ngxf6,Nbd2,Qb6,b3,Be7,O-O,O-O,Rfe1,Bb4,Rxe6,Bxd2,Nxd2,Ng4,f3,Nge5,Qe3,Nf7,Re7,Nxg5,Qxg5', 'Qxd4+,Qe3,Qxa1+', 'https://lichess.org/training/fLols');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FLpcr', 'Rapid', 'lippurro', 1671, 'me_nayan', 1672, 'd4,d5,c4,dxc4,e4,Nc6,d5,Ne5,f4,Ng4,h3,N4f6,Nc3,e6,Bxc4,Bb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/FLpcr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fLQ2M', 'Rapid', 'pquigley', 1740, 'Dm_Sin', 1863, 'e4,e5,b3,g6,Bb2,Bg7,d4,f6,d5,d6,Nc3,c6,g3,cxd5,Qxd5,Nc6,Nb5,Bf8,O-O-O,Nb4,Qc4,Nc6,a3,a6,Qa4,Be6,f4,axb5,Qxb5,Qc7,fxe5,fxe5,b4,Bh6+,Kb1,Ne7,Bh3,Bxh3,Nxh3,O-O,g4,Bf4,Nxf4,Rxf4,h4,Rf2,Rdf1,Raf8,Rxf2,Rxf2,h5,Nd4,Qe8+,Kg7', 'h6+,Kf6,Qf8+,Ke6,Qxf2', 'https://lichess.org/training/fLQ2M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flQwD', 'Rapid', 'bintape', 1739, 'damHache', 1612, 'd4,d5,e3,Nf6,c4,c6,c5,b6,b4,a5,Ba3,e6,Bd3,axb4,Bxb4,bxc5,dxc5,Nbd7,Qc2,Ba6,Bxa6,Rxa6,a3,Ne4,Qe2,Ra8,Nd2,Bxc5,Bxc5,Ndxc5,Nxe4,Nxe4,Qc2,Qa5+,Kf1,Nd2+,Ke2,Nc4,Nf3,f6,Nd4,O-O,Nxe6,Rfe8,Nd4,Qc5,Nb3,Qd6,a4,Na3,Qc1,Rxa4,Nc5,Ra5', 'Nb7,Qb4,Nxa5', 'https://lichess.org/training/flQwD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fLt3u', 'Classical', 'tamerseda85', 1966, 'samarodok', 2077, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,Nf6,O-O,e6,h3,Bh5,Be3,O-O-O,a4,a5,Na3,cxd4,cxd4,Bxa3,Rxa3,Nxd4,Nxd4,Bxe2,Qxe2,Qe4,Rc1+,Kb8,Qb5,Rxd4,Bxd4,Qxd4,Qc5,Qxc5,Rxc5,b6,Rb5,Nd5,Kf1,Rc8,Ke1,Rc4,Rbb3,Nb4,Kd1,Rd4+,Kc1,Ka7,Rc3,Kb7,Rf3,f6,Rg3,g6,Rg4,Rd6,Rh4,h5,Rg3,Nd3+,Kb1,g5,Rxh5,Nxf2,Rf3,Ne4,Rh7+,Kc6,Ra7', 'Nd2+,Kc2,Nxf3', 'https://lichess.org/training/fLt3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fLTP1', 'Rapid', 'juanmolina0426', 2086, 'Daniel_Fomeque_DJ', 1947, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f3,Nbd7,Qd2,b5,g4,Nb6,h4,Be7,h5,Nfd7,Na5,Nc4,Nxc4,bxc4,Nd5,Rb8,Bxc4,Bh4+,Ke2,Be7,b3,Bxd5,Bxd5,Qc7,Bc4,a5,a4,Nc5,Bb5+,Nd7,Rad1,O-O,g5,Rfc8,Bc4,Nb6,Bxb6,Qxb6,g6,h6,gxf7+,Kf8,Rhg1,Bg5,Rxg5,hxg5,Qxg5,Rxc4,bxc4,Qc7,Kd3,Rc8,Qd2,Qxf7,Ke2,Qxc4+,Ke1,Rc6,Qxa5,Qxc2,Qd8+,Kf7,Qd7+,Kf8,Rxd6,Qc1+,Rd1', 'Qe3+,Kf1,Qxf3+', 'https://lichess.org/training/fLTP1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flTsl', 'Rapid', 'ivis1', 1720, 'Demarshal', 1699, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Nc6,Bxc6+,bxc6,Nf3,Nf6,d3,e6,O-O,Be7,h3,O-O,Ne5,Qc7,Nf3,Ba6,Re1,c5,Be3,Rab8,b3,c4,dxc4,dxc4,Nbd2,Rfd8,Nd4,e5,Nf5,c3,Nxe7+,Qxe7,Qc1,cxd2,Bxd2,Nd5,Qb2,f6,Ba5,Rdc8,c4,Nf4,Bd2,Nd3,Qb1,Nxe1,Qxe1,Rd8,Ba5,Rd4,Bb4,Qd7,Bc5,Rd3,Qa5,Qb7,Re1,Rbd8,Re3,Rd1+,Kh2,e4,Rg3,R1d2,Qc3,Qc6,Be3,Rxa2,Bd4,Ra3', 'Bxf6,g6,Bxd8', 'https://lichess.org/training/flTsl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flU6W', 'Rapid', 'amrohussien', 1888, 'marclanc', 1833, 'e4,e5,Bc4,Nc6,a3,Nf6,d3,Be7,Ne2,d5,exd5,Nxd5,O-O,Nf6,Ng3,Bg4,Qe1,Nd4,Qd2,Nh5,Nxh5,Bxh5,f3,Bc5,Kh1,Qf6,c3,Nxf3,gxf3,Bxf3+,Rxf3', 'Qxf3+,Qg2,Qd1+,Qf1,Qxf1#', 'https://lichess.org/training/flU6W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fLuk7', 'Rapid', 'ars54321', 2153, 'FM komis1987', 2105, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nh3,e5,dxe5,Qa5+,c3,Qxe5+,Be2,Nf6,Bf4,Qd5,O-O,Be7,c4,Qxd1,Raxd1,Nbd7,a3,Nc5,Rfe1,Ne6,Be5,O-O,f4,Ne4,Nxe4,Bxe4,Bf1,Bc2,Rd2,Bxh4,Re3,Bf5,Rd7,Nxf4,Rxb7,Nxh3+,gxh3,Rfe8,Bg2,Bg5,Re1,Bh4,Re3,Rad8,Bxc6,Rd1+,Kg2,Rd2+,Kh1,Bxh3,Bd5,Be6,Bxe6,Rxe6,Bf4,Rf6', 'Re8+,Kh7,Bxd2', 'https://lichess.org/training/fLuk7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flV3X', 'Rapid', 'yada', 1809, 'hart21', 1769, 'f4,d5,Nf3,Nf6,d3,Bf5,h3,h5,Be3,Nc6,Nbd2,d4,Bf2,e6,Nb3,Bb4+,Nfd2,O-O,a3,Bxd2+,Qxd2,Qd5,O-O-O,a5,e4,dxe3,Bxe3,a4,Nc5,Qa2,c4,Rfd8,Be2,Nd4,Bxd4,Rxd4,Qc3,Rxf4,Kc2,Bxd3+,Nxd3', 'Rxc4,Qxc4,Qxc4+', 'https://lichess.org/training/flV3X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fLvqz', 'Blitz', 'Tunkyawhein', 1945, 'Amjed84', 1909, 'e4,Nf6,e5,Nd5,c4,Nb6,Nc3,d6,f4,g6,Nf3,Bg7,d4,O-O,Bd3,Nc6,d5,Na5,Qe2,Bg4,b4,Bxf3,gxf3,Naxc4,Bxc4,dxe5,fxe5,Nxc4,Qxc4,Bxe5,Bb2,e6,O-O-O,Qg5+,Kb1,exd5,Nxd5,Bxb2,Kxb2,Rae8,f4,Qg2+,Kb1,Re2,Qd4,h5,Nf6+,Kg7,Nxh5+,Kh6,Qg7+,Kxh5,Qh7+,Kg4,h3+,Kf5,Qg7,Rfe8,Rhg1,Qe4+,Ka1,Qe6,Rg5+,Kxf4,Rg4+,Kf5', 'Rf1+,Rf2,Rxf2#', 'https://lichess.org/training/fLvqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flw0E', 'Classical', 'shaban62', 1644, 'MDS_10', 1618, 'd4,Nf6,c3,d5,f3,Nc6,Bg5,e6,Bh4,h6,b4,a6,a4,Be7,Bf2,Bd7,e3,e5,a5,exd4,exd4,O-O,Bd3,Re8,Kf1,Bd6,Bc2,Ne7,g4,c6,Qd3,Qc7,Ne2,Bxh2,Kg2,Bf4,Rh3,Bg5,Ng3,Ng6,Nh5,Qd6,Bg3,Bf4,Nxf6+,Qxf6,Qf1,Bxg3,Bxg6,Qxg6,Rxg3,Qc2+,Kh3,h5,Rg2,hxg4+,fxg4,Qh7+,Kg3,Re3+,Kf2,Qh3,Nd2,Bxg4,Kg1,Bf3', 'Rxg7+,Kxg7,Qxh3', 'https://lichess.org/training/flw0E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FLWjq', 'Rapid', 'walidhassaniou', 1865, 'techhelpstew', 1934, 'e4,c5,f4,Nc6,e5,d5,Nf3,g6,Be2,Bg7,O-O,Nh6,c3,d4,c4,O-O,d3,Nf5,h3,h5,Kh2,Bh6,a3,Qd7,Qe1,Nd8,Nh4,Nxh4,Qxh4,Ne6,g4,Ng7,g5,Nf5,Qf2,Bg7,Nd2,f6,gxf6,exf6,exf6,Rxf6,Ne4,Rc6,Rg1,b6,Bf3,Bb7,Qg2,Re8,Nf2,Rc7,Qxg6,Bxf3,Bd2,Re2,Be1,Rxb2,Rg5,Ne3,Kg3,Be2,Ne4,Nf1+,Kh4,Kf8', 'Rf5+,Qxf5,Qxf5+', 'https://lichess.org/training/FLWjq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FlwxQ', 'Rapid', 'kishanrao', 1798, 'sakomik', 1797, 'e4,e6,Nf3,Nc6,d4,d5,e5,h6,Bd3,Nge7,O-O,Ng6,c4,Nb4,cxd5,exd5,Qa4+,Nc6,Nc3,a6,Bxg6,fxg6,Re1,Be6,Qc2,Bf5,Qb3,Be6,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/FlwxQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fLXGP', 'Rapid', 'redwhite81', 1671, 'virus08', 1947, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nxd4,Qxd4,Nf6,Be2,a6,e5,Ng8,O-O,b5,Ne4,Bb7,Nd6+,Bxd6,Qxd6,Nf6,exf6,Qxf6,f4,Rc8,Bd3,g6,Be3,Qe7,Qb6,d6,Rad1,O-O,Qd4,e5,fxe5,dxe5,Qg4,f5,Bg5', 'Qc5+,Kh1,fxg4', 'https://lichess.org/training/fLXGP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FLYAD', 'Rapid', 'a-olenhuk', 1877, 'Mehrboddx', 1766, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bg5,Be7,Qe2,O-O,Nc3,Bb4,Bxf6,Qxf6,Qe5,Qd8,O-O-O,Bxc3,bxc3,Nc6,Qf4,a5,Bb5,a4,a3,Ra5,Bxc6,bxc6,Ne5,Ra6,h4,Qd6,Nd3,Qxa3+,Kd2,Qd6,Ra1,Be6,Ra2,Rfa8,Rha1,Ra5,Qxd6,cxd6,Nb4,c5,Nd3,g6,Nb2,Bd7,Ra3,f5,f4,Kf7,Nd3,Kg7,g3,Kh6,Nf2,Kh5,Re1,Re8,Rxe8,Bxe8,Ke3,Bb5,Kf3,Ra8,Nh3,cxd4,cxd4,Rc8,c3,Rc4,Ng5,h6,Ne6,g5,hxg5,hxg5,fxg5,Bd7,Nf4+,Kxg5,Nxd5', 'Bc6,Ke2,Bxd5', 'https://lichess.org/training/FLYAD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('flyAu', 'Blitz', 'snailykotik', 2130, 'Bismarck39', 2106, 'e4,c5,Nf3,e6,Qe2,Nc6,g3,g6,Bg2,Bg7,c3,Nge7,O-O,O-O,d4,cxd4,cxd4,Nxd4,Nxd4,Bxd4,Bg5,f6,Bh6,Rf7,Nc3,a6,Rfd1,e5,Be3,Nc6,Nd5,d6,Rac1,Be6,b4,Bxe3,Qxe3,Bxd5,exd5,Nd4,Bh3,Qb6,a3,Rc7,Be6+,Kg7,h4,Rxc1,Rxc1,h5,Kg2,Re8,Rc3,Re7,Rc8,Qb5,Rg8+,Kh7', 'Rh8+,Kxh8,Qh6+,Rh7,Qf8#', 'https://lichess.org/training/flyAu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Flycb', 'Classical', 'eeiktish', 2018, 'A_D_R_I_A_N-M', 2052, 'g3,e6,Bg2,d5,c4,Nf6,cxd5,Nxd5,Nc3,Nxc3,bxc3,Nc6,Bxc6+,bxc6,Nf3,Bd6,O-O,O-O,Bb2,f5,e3,e5,d4,f4,dxe5,fxg3,exd6,gxh2+,Nxh2,Qh4,d7,Ba6,Re1,Qxf2+,Kh1,Rad8,Qb3+,Kh8,c4,Qh4,Qc3,Rxd7,Rf1,Rxf1+,Rxf1,Kg8,Rg1,Qe4+,Rg2,Rd1+,Nf1', 'Rxf1+,Kh2,Qh4#', 'https://lichess.org/training/Flycb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FLYD1', 'Classical', 'hifo', 1646, 'LapaTH_yt', 1633, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Bb5+,Bd7,Nc3,a6,Bc4,Nf6,O-O,e5,Qd3,b5,Bd5,Nxd5,Nxd5,Bc6,c4,bxc4,Qxc4,Bxd5,Qxd5,Be7,Qc6+,Kf8,Be3,g6,Rfd1,Kg7,Bc5', 'Rc8,Qxa6,Rxc5', 'https://lichess.org/training/FLYD1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FlzT4', 'Rapid', 'Boxi-cz', 1852, 'captainhaan', 1781, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,c3,a6,Be3,d5,exd5,Nxd5,O-O,Nxe3,fxe3,f5,e4,f4,d4,Bd6,dxe5,Nxe5', 'Nxe5,Bc5+,Kh1', 'https://lichess.org/training/FlzT4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fm0lR', 'Rapid', 'Falcone88', 2014, 'kreacij55', 1863, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Nbd7,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,Be7,Qe2,a6,Bd2,O-O,Rfc1,Rc8,e4,c5,h3,cxd4,Nd1,Nc5,b4,Nxd3,Qxd3,Bxe4,Qxd4,Bxf3,Qxd8,Rfxd8,Rxc8,Rxc8,gxf3,Nd5,a3,Rc2,Be3,h6,Kf1,Bf6,Rb1,Ra2,Rb3,Rc2,Rd3,Nxe3+,Nxe3,Ra2,f4,Bb2,f5,exf5,Nxf5,Rxa3,Rd8+,Kh7,Rd7,Kg6,Ne7+,Kf6,Nc8,Be5,Kg2,Ke6,Re7+,Kf6,Rb7,Ra4,Kf3,Rxb4,Rb6+,Kf5,Rxa6,Rf4+,Kg2,b4,Rb6,Bc3,Rb5+,Kf6,Na7,Rc4,Rb6+,Ke7,Nc6+,Kf6', 'Na5+,Ke5,Nxc4+', 'https://lichess.org/training/fm0lR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fm1Ba', 'Rapid', 'coolchesscat1', 1807, 'Feri12', 1811, 'f4,c5,Nf3,d6,e3,Nf6,b3,g6,Bb2,Bg7,Be2,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,O-O,d3,Ng4,Bxg7,Kxg7,Qe2,e5,h3,Nh6,fxe5,dxe5,Nxe5,Bd5,e4,Be6,Nd2', 'Qd4+,Qf2,Qxe5', 'https://lichess.org/training/fm1Ba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fM2aO', 'Blitz', 'Hildebrandt_Ray', 1705, 'davidallan', 1656, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,g6,Be3,Bg7,f3,Nf6,Qd2,O-O,Bc4,Nxd4,Bxd4,a6,O-O-O,Bd7,Bb3,a5,a3,b5,Nd5,b4,Nxf6+,exf6,a4,Rc8,g4,Be8,h4,Bc6,g5,f5,Bxg7,Kxg7,Qd4+,Kg8,h5,Qxg5+,Kb1,fxe4,hxg6,Qe5,gxh7+,Kh8,Qxe5+,dxe5,Rdg1,exf3,Bxf7,f2', 'Rg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/fM2aO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fM2Ef', 'Rapid', 'falconeone', 1762, 'hafidpalapa', 1736, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Be2,Nc6,Nf3,cxd4,cxd4,Nge7,O-O,Nf5,Nc3,Nfxd4,Na4,Nxf3+,Bxf3,Qd8,Bf4,Bd7,b3,b5,Nc3,Qb6,Ne2,Be7,h3,Rc8,Bg3,O-O,Re1,Nb4,Rf1,a5,a3,Na6,Kh1,Bc6,Bh2,Rfd8,Bg4,d4,Bg1,Bc5,f4,Qb7,Bf3,d3,Ng3,Bxg1,Rxg1,Bxf3,gxf3,Rc2,Ne4,Kh8,Rc1,Rxc1,Qxc1,d2,Qd1,Qd5,Kg2,Qd3,Kg3,Qd5,Rg2,Qd3', 'Rxd2,Qxd2,Nxd2', 'https://lichess.org/training/fM2Ef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FM5uz', 'Blitz', 'Drovosek', 1781, 'idunnoman', 1742, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,c3,Ne7,Bg5,O-O,Bd3,f6,Bh4,Nf5,Bxf5,Bxf5,O-O,g5,Bg3,c6,h3,Bxg3,fxg3,Qd6,g4,Be4,Nbd2,Bg6,Qb3,Rf7,Rfe1,Kg7,Re8,Rd7,Rae1,Bxe8,Rxe8,Re7,Rxe7+,Qxe7,c4,dxc4,Qxc4,Na6,d5,Rc8,Qd4,c5,Qc3,Nb4,Nxg5,Nxd5,Qd3,Nf4', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/FM5uz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fm6D1', 'Rapid', 'ElSupremo04', 2124, 'thecurly', 2105, 'e4,c5,Nf3,e6,a3,a6,c3,b5,d4,Qc7,Be2,Bb7,d5,d6,O-O,Nf6,Re1,exd5,exd5,Be7,c4,bxc4,Bxc4,O-O,Bd2,Re8,Nc3,Nbd7,Na4,Bf8,Qc2,Bxd5,Rxe8,Rxe8,Bxa6,Bxf3,gxf3,Qc6,Bc4,Qxf3,Qb3,Ne5,Bxf7+,Kh8,Be3,Qg4+,Kf1,Nxf7,Qxf7,Qxa4,Bg5,Qd7,Qxd7,Nxd7,Rd1,Ne5,Re1,h6,Bf4,Kg8,a4,Kf7,a5,Nd3', 'Rxe8,Kxe8,a6,Nxf4,a7', 'https://lichess.org/training/fm6D1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fm8dW', 'Rapid', 'usmanovmadi', 1779, 'AlmagulChakeeva', 1791, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,c6,g3,Be7,Bg2,O-O,O-O,Nbd7,Re1,b6,e4,dxc4,e5,Nd5,Nd2,b5,a4,b4,Nce4,Ba6,b3,c3,Nc4,Bxc4,bxc4,N5b6,Qb3,Qc7,c5,Nd5,Nd6,a5,Re4,f6,exf6,Rxf6,Bg5,Rg6', 'Bxe7,Nxc5,dxc5', 'https://lichess.org/training/fm8dW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fm8qJ', 'Blitz', 'dalila77', 1925, 'tucker2017', 1948, 'e4,e5,Nf3,f5,exf5,e4,Qe2,Nf6,Ng5,d5,d3,Bxf5,dxe4,dxe4,Nc3,Qd4,Be3,Qb4,O-O-O,Nbd7,h3,h6,a3,Qa5,g4,Bxa3,Qc4,Bxb2+,Kxb2,O-O-O,Nf7,Bg6,Nxd8,Rxd8,Nd5,Nb6,Nxb6+,axb6,Ra1,Qe5+,Kb1', 'Rd1+,Bc1,Rxc1+,Kxc1,Qxa1+', 'https://lichess.org/training/Fm8qJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fm8zi', 'Rapid', 'rabbit199', 1788, 'sucom', 1858, 'd4,d5,c4,dxc4,Nf3,e6,e3,Nf6,Bxc4,Be7,O-O,O-O,Nc3,c6,e4,Nbd7,e5,Nd5,Nxd5,cxd5,Bd3,h6,Be3,a6,Qd2,b5,b4,Bb7,a4,f5,exf6,Nxf6,axb5,axb5,Bxb5,Ne4,Qd3,Bxb4,Ne5,Rxa1,Rxa1,Bd6,Ra7,Bxe5,dxe5,Qb8,h4,Bc8,f3,Ng3,Qg6,Nf5,g4,Qxe5,gxf5', 'Qxe3+,Kg2,Qxa7', 'https://lichess.org/training/fm8zi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FM9iV', 'Blitz', 'arkadyNa', 1748, 'RackBank', 1568, 'e4,c5,f4,d5,e5,e6,Nf3,Ne7,Be2,Nf5,b3,Nc6,Nc3,Qb6,Kf1,Be7,Ba3,O-O,Na4,Qa5,g4,Nh6,c4,dxc4,bxc4,b6,Bb2,Nxg4,Kg2,Bb7,Qc2,f6,Rag1,fxe5,Nxe5,Nb4+,Kf1,Nxc2,Nxg4,Bh4', 'Nh6+,Kh8,Bxg7#', 'https://lichess.org/training/FM9iV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fm9mV', 'Blitz', 'mit62', 1775, 'CamiloMR', 1706, 'd4,d5,c4,c6,Nc3,e6,Nf3,Ne7,c5,Ng6,b4,a6,Bb2,Be7,a3,O-O,g3,Qc7,e3,f6,Bg2,e5,dxe5,fxe5,O-O,Bg4,h3,Bxf3,Bxf3,e4,Bg2,Ne5,Rb1,Nf3+,Bxf3,Rxf3,Kg2,Nd7,Nxd5,cxd5,Qxd5+,Kh8,Qxe4,Rf7,Qe6,Raf8,Rbd1,Nf6,Bxf6,Bxf6,e4,Be5,Rd5,Bb2,f4,Bxa3,Rd4,Bc1,e5,Be3,Rd6,Bc1,Rxc1,b6,c6,a5,bxa5,bxa5,Ra1,Qa7,Rd7,Rxd7,cxd7,Qa8+,Kh2,Qe4,h4,Qe2+,Kh3,Qf3,Qe8,Kg8,Qxf8+,Kxf8,d8=Q+,Kf7,Rd1,h6,Rd7+,Kg6,Qe7', 'Qh1+,Kg4,h5#', 'https://lichess.org/training/Fm9mV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FmAXJ', 'Blitz', 'Ranunkeln', 1913, 'WIM rodionolya', 1931, 'Nf3,d5,c4,e6,g3,c6,Bg2,Nf6,b3,Nbd7,Bb2,Bd6,O-O,O-O,d3,Re8,Nbd2,h6,e4,dxe4,dxe4,e5,Re1,Qe7,Nf1,Nc5,Qc2,Bg4,Rad1,Rad8,Rd2,Ncxe4,Rxe4,Nxe4,Qxe4,f5,Qc2,e4,Nd4,Qf7,Ne3,Bc5,Nxg4,fxg4,Bxe4,Bxd4,Bxd4,c5,Bc3,Kh8,Bg6', 'Re1+,Kg2,Qf3#', 'https://lichess.org/training/FmAXJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fMBMo', 'Rapid', 'Sanctuary123', 1675, 'manatok', 1635, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d3,Be7,Nh4,d6,h3,O-O,Nf5,Bxf5,exf5,a6,g4,d5,Bb3,Nd4,Be3,Nxb3,axb3,d4,Bxh6,dxc3,Bc1,Qd4,bxc3,Qxc3+,Bd2,Qd4,Ra4,Qd5,Rg1,b5,Ra1,e4,g5,Nd7,f6,Nxf6,gxf6,Bxf6,Rb1,exd3,Bb4,Qe4+,Kf1,Qxb4,Qxd3,Rad8,Qf3,Rfe8,Qxf6,Qd4', 'Rxg7+,Kh8,Qh6#', 'https://lichess.org/training/fMBMo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FmC6f', 'Rapid', 'simonpallevente', 1700, 'Dimitrovgrigor', 1909, 'e4,e5,Nf3,f5,Nxe5,Qf6,d4,d6,Nf3,fxe4,Qe2,Qe7,Bg5,Nf6,Nfd2,Bf5,Bxf6,Qxf6,Nxe4,Bxe4,Qxe4+,Be7,Qxb7,Qxd4,c3,Qb6,Bb5+,c6,Bxc6+', 'Qxc6,Qxc6+,Nxc6', 'https://lichess.org/training/FmC6f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FmDAR', 'Classical', 'kyle11878', 1936, 'olegsap', 1871, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,Nxd5,e4,Nf6,e5,Nd5,Nf3,Bb4,Bd2,Nc6,Bd3,b6,O-O,Bb7,a3,Bxc3,bxc3,h6,Re1,Qd7,c4,Nde7,Be4,O-O-O,a4,Nxd4,Bxb7+,Kxb7,Nxd4,Qxd4,Qf3+,Nc6,a5,Qxd2', 'a6+,Kc8,Qxc6', 'https://lichess.org/training/FmDAR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fmdvc', 'Bullet', 'Tiagokat', 1796, 'AntonioGG', 1782, 'd4,d5,Bg5,h6,Bh4,g5,Bg3,f5,Be5,Rh7,e3,Nd7,Bd3,Nxe5,dxe5,d4,exd4,e6,c3,Ne7,h4,g4,f3,h5,fxg4,hxg4,Ne2,Ng6,g3,b6,Nd2,Bb7,Rh2,Nxh4,gxh4,Rxh4,Rxh4,Qxh4+,Kf1,Qh1+,Ng1,Qg2+,Ke1,Qxg1+,Nf1,Bh6,Qb3,Bd5,Qb5+,c6,Qa6,g3,Qb7,Rd8,Qh7,Be3,Qg6+,Kd7', 'Qf7+,Kc8,Ba6+,Kb8,Qb7#', 'https://lichess.org/training/Fmdvc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fMdVq', 'Rapid', 'awesomeguy12532', 1685, 'Rahman_Hadista', 1649, 'e4,c5,Bd3,Nc6,c3,d6,Bc2,g6,Nf3,Bg7,d4,cxd4,cxd4,Qb6,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,O-O,Bxb2,Bxb2,Qxb2,Nd2,Nf6,Ba4+,b5,Rb1,Qd4,Bxb5+,Bd7,Bxd7+,Qxd7,Qf3,O-O,Nc4,Rac8,Rb7,Qe6,Ne3,a5,h3,Rfe8,g4,Qxa2,g5,Nh5,Ng4,Kg7,Nh6,Qe6,Qd3,Nf4', 'Qd4+,f6,Qxf4,fxg5,Qxg5', 'https://lichess.org/training/fMdVq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fmFdY', 'Classical', 'Sthlm', 1774, 'Wiz017', 1809, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bd7,O-O,Nf6,Bg5,e6,c3,Qb6,Bxc6,Bxc6,b4,Be7,Nbd2,h6,Bh4,g5,Bg3,h5,Be5,g4,Nh4,Rh7,f3,Nd7,Kh1,Bxh4,fxg4,hxg4,Qxg4,Nxe5', 'Qg8+,Kd7,Qxh7', 'https://lichess.org/training/fmFdY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fmH0k', 'Classical', 'cuniculus', 1849, 'Sir_Billo', 1843, 'e4,c6,d4,d5,Nc3,e6,Bd2,c5,Nf3,Qb6,Bb5+,Nd7,a4,cxd4,a5,Qc5,Bxd7+,Bxd7,Na4,Bxa4,Rxa4,Rc8,Nxd4,e5,Bb4', 'Qxd4,Qxd4,exd4,Bxf8,Kxf8', 'https://lichess.org/training/fmH0k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fmhpz', 'Blitz', 'Raafatinho', 1799, 'Pernelho', 1790, 'd4,d5,c4,Nf6,Nc3,e6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Bb5+,Nc6,d5,a6,Bxc6+,bxc6,dxc6,Qxd1+,Kxd1,Bd6,Be3,O-O,Nf3,a5,e5,Be7,Nd2,Ra6,Nc4,Rxc6,Nxa5,Ra6,Nc4,Bb7,f3,Rd8+,Ke2,Ra4,Nb2,Ba6+,Kf2,Ra3,Rhd1,Rxc3,Rxd8+,Bxd8,Nd1,Rd3,Bxc5,Ba5,a4,g6,Kg3,h5,Nf2,Rd5,Ne4,Rxe5,Bd6,Rd5,Nf6+,Kg7,Nxd5,exd5,Rd1,Bc4,Be5+,f6,Bd6,g5,h4,Kg6,hxg5,fxg5,Rb1,h4+,Kh3,Kf5,Bb4,Bc7,a5,Bf4,Bc5,d4,Bxd4,Bd3,Re1,Bg3,Rd1,Be2,Rd2', 'g4+,fxg4+,Bxg4#', 'https://lichess.org/training/Fmhpz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fmHqq', 'Blitz', 'k0k0s0v', 1920, 'yacinealg3', 1888, 'e4,c5,Nf3,Nc6,c3,e5,d4,d6,Bb5,cxd4,cxd4,exd4,Nxd4,Bd7,Nf5,Bxf5,exf5,Qa5+,Nc3,O-O-O,Bxc6,bxc6,O-O,Nf6,Qf3,d5,Bf4,Bd6,Rac1,Bxf4,Qxf4,Rhe8,a3,Qc7,Qd2,g6,Nb5,Qd7,Rxc6+,Kb8,Rxf6,Qxb5,Rxf7,gxf5,Qf4+,Ka8,Qxf5,Rc8,Qxh7', 'Qxf1+,Kxf1,Rc1#', 'https://lichess.org/training/fmHqq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FMiMm', 'Classical', 'fiesmot', 2267, 'sunbol', 1921, 'd4,d5,Nf3,e6,c4,c5,cxd5,exd5,g3,Nf6,Bg2,Be7,O-O,Nc6,Nc3,Be6,Bf4,Rc8,Rc1,O-O,dxc5,Bxc5,Na4,Bd6,Bxd6,Qxd6,Nd4,Nxd4,Qxd4,b6,Rxc8,Rxc8,Rd1,Rc4', 'Qxc4,dxc4,Rxd6', 'https://lichess.org/training/FMiMm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fmJal', 'Classical', 'Rajeshindia', 1908, 'Czeslaw62', 1791, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng5,e6,c3,Be7,N5f3,Nd7,Bd3,Bxd3,Qxd3,Ngf6,Bf4,O-O,Ne2,Qe8,h3,c5,dxc5,Nxc5,Qc2,Nce4,Be3,b6,g4,Qc6,Nfd4,Qb7,O-O-O,Nc5,Ng3,a5,g5,Nd5,h4,a4,a3,b5,h5,Rac8,Kb1,Na6,Qe2,b4,cxb4,Naxb4,axb4,Qxb4,Qb5', 'Nc3+,Ka1,Nxb5', 'https://lichess.org/training/fmJal');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FMJbi', 'Rapid', 'killerrats', 1873, 'PopeUnkown', 1794, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,a6,c3,Bc5,d4,exd4,cxd4,Bb6,d5,Nce7,e5,Ng6,Re1,N8e7,e6,fxe6,dxe6,d6,Nc3,O-O,Nd5,Kh8,Nxb6,cxb6,a4,Rf6,Ne5,d5', 'Nf7+,Rxf7,exf7', 'https://lichess.org/training/FMJbi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fMKU8', 'Blitz', 'mdsaif', 1635, 'ahmadhalako', 1686, 'e4,e5,Nf3,d5,exd5,Bg4,Be2,Nf6,Nxe5,Bxe2,Qxe2,Be7,Nc3,O-O,O-O,Bd6,d4,Re8,Bg5,Nbd7,Rae1,h6,Bxf6,Qxf6,Qh5,Nxe5,dxe5,Bxe5,Ne4,Qb6,Qf5,f6,c4,Qxb2,Qg6,Bc3,Rb1,Qe2,Nxc3,Qxc4,Rbc1,Qd4,Qf5,Re5,Qd7,Rae8,Rfd1', 'Qxd1+,Rxd1,Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/fMKU8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fMl9p', 'Rapid', 'Misturd', 1744, 'fcardenas', 1729, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,g6,Nf3,Bg7,Bb5,a6,Ba4,b5,Bb3,Bb7,a3,d6,O-O,Nf6,Re1,Na5,Ba2,Bxe4,Nc3,Bb7,Bd2,Nc6,Rc1,Rc8,h3,O-O,Qe2,e5,dxe5,dxe5,Nxe5,Re8,Nxc6,Rxe2,Nxd8,Rxe1+,Rxe1,Rxd8,Bg5,Rd7,Re3,h6,Bh4,g5,Bg3,Nh5,Be5,Bxe5,Rxe5,Nf4,f3,Kg7,Ne4,Rd1+,Kh2,Bxe4,Rxe4,Rd2,Re7,Rxg2+,Kh1,Rxb2,Bxf7,Kf6,Ra7,Nxh3,Bd5,Ke5,Be4,Nf2+,Kg1,Nxe4,Re7+,Kf4,fxe4,Kg3,Kf1,Kf3,Ke1,Ke3,Kd1,h5,e5,g4,e6,g3,Rg7,g2', 'e7,g1=Q+,Rxg1,Rb1+,Kc2,Rxg1,e8=Q+', 'https://lichess.org/training/fMl9p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fMlpy', 'Rapid', 'irina-1963', 1879, 'hjani', 1991, 'e4,Nf6,e5,Nd5,Nc3,Nxc3,dxc3,d5,exd6,cxd6,Bc4,Nc6,Nf3,g6,O-O,Bg7,Bg5,h6,Bh4,g5,Bg3,O-O,Qd2,Bf5,Nd4,Bg6,h4,e5,Nxc6,bxc6,hxg5,hxg5,Rad1,d5,Bb3,Qf6,Rfe1,Rfe8,c4,d4,c5,e4,Bd6,Bh5,Rc1,e3,fxe3,dxe3,Qd3,Qxb2,c3,Qf2+,Kh1,Bg6,Qxg6,e2,Bc4', 'Qh4+,Kg1,Qxc4', 'https://lichess.org/training/fMlpy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fMMBr', 'Classical', 'rOviL2348', 2001, 'b_negrov', 2039, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,Bd3,Bb7,O-O,d6,Be3,Nd7,Nb3,Ngf6,f3,Be7,a3,O-O,Qe1,Rc8,Qf2,d5,exd5,Nxd5,Nxd5,Bxd5,Nc1,Nc5,Rd1,Qc7,c3,Bd6,g3,Qc6,Be2,Rfd8,Nd3,Nb3,Rab1,a5,Ne1,f5,f4,Nc5,Qf1,Rb8,Bf3,Ne4,Kg2,Bc4,Qh1,g6,Nc2,e5,fxe5,Bxe5,Bd4,Bc7,Qg1,Bb3,Rdc1,Qe6,Qe3,Re8,Na1,Ba2,Nc2,Bxb1,Rxb1,Qa2,Qh6,Be5,Qc1,Bxd4,Nxd4,Nd2', 'Ra1,Qc4,Qxd2', 'https://lichess.org/training/fMMBr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FMMcy', 'Rapid', 'Sherwin_tiu23', 1984, 'Lonelywolf', 1975, 'c4,e6,d4,d6,Nc3,Ne7,Bg5,Nd7,e3,h6,Bxe7,Bxe7,Nf3,c6,Bd3,a6,O-O,b6,b4,Bb7,a4,Qc7,b5,axb5,axb5,c5,Rxa8+,Bxa8,Qa4,O-O,Ra1,Bxf3,gxf3,cxd4,exd4,Bf6,Ne2,Nc5,dxc5,Bxa1,cxb6,Qxb6,Qxa1,Rc8,Qd4,Qc7,Qe4,g6,Nd4,Qe7,Nc6,Qg5+,Qg4,Qc1+,Kg2,Ra8,Qh4,Kg7,b6,Ra6,h3,Rxb6', 'Qd4+,Kh7,Qxb6', 'https://lichess.org/training/FMMcy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fmMQk', 'Rapid', 'kapsul111', 1717, 'damir38', 1714, 'e4,e6,d4,c6,Be3,d5,e5,Nd7,Bd3,f6,f4,fxe5,fxe5,Ne7,Nf3,Nf5,Ng5,Nxe3,Qh5+,g6,Bxg6+,hxg6', 'Qxg6+,Ke7,Qxe6#', 'https://lichess.org/training/fmMQk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fmOWT', 'Rapid', 'nijimba', 1993, 'analimari', 1854, 'd4,Nf6,c4,c5,d5,g6,Nc3,Bg7,e4,d6,Be2,O-O,f4,e6,dxe6,Bxe6,Nf3,Nc6,O-O,Bc8,Kh1,a6,Be3,Re8,Bd3,Nb4,Bb1,h6,a3,Nc6,Qd2,Kh7,Bc2,Qc7,Rad1,Rd8,Nd5,Nxd5,exd5,Ne7,b3,Nf5,Bg1,Re8,Rde1,Bd7,h4,b5,Kh2,bxc4,bxc4,a5,a4,Rab8,Qd3,Ne7,h5,Bf5,hxg6+,fxg6,Qd1,Bxc2,Qxc2,Nf5,g4,Rxe1,Rxe1,Ne7,Nh4', 'Rb2,Qxb2,Bxb2', 'https://lichess.org/training/fmOWT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FMqGH', 'Rapid', 'ba2set', 1649, 'Valefort', 1600, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Be3,Qxc6,Bxc5,Qxc5,Nc3,Nf6,Bd3,O-O,O-O,d6,a3,Bg4,Qd2,Be6,b4,Qc6,a4,Bc4,a5,b6,Rfe1,bxa5,e5,dxe5,Be4,Qd6', 'Qxd6,cxd6,Bxa8', 'https://lichess.org/training/FMqGH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FMqnJ', 'Rapid', 'narizblanca', 2017, 'HowAboutADraw', 2357, 'd4,d5,c4,e6,Nc3,Be7,Nf3,Nf6,Bg5,O-O,e3,h6,Bh4,b6,cxd5,Nxd5,Bxe7,Qxe7,Bd3,Bb7,Rc1,Rc8,O-O,Nd7,Qe2,c5,Ba6,Bxa6,Qxa6,cxd4', 'Nxd5,exd5,Rxc8+,Rxc8,Qxc8+', 'https://lichess.org/training/FMqnJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fmqnu', 'Classical', 'constine', 2072, 'MoiRon', 2050, 'e4,c6,d4,d5,f3,dxe4,fxe4,Nf6,e5,Bg4,Nf3,Nd5,Bd3,e6,O-O,Qb6,c3,Nd7,Qe1,Bxf3,Rxf3,c5,Nd2,cxd4,Nc4,Qc7,cxd4,b5,Ne3,Nxe3,Qxe3,Qb6,Qf4,f6,Be3,f5,d5,Bc5,dxe6,Bxe3+,Rxe3,Qxe6,Bxf5,Qe7,Qg4,Nb6,Qh5+,Qf7,Qh3,g6,Be4,O-O,Bxa8', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/fmqnu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fmqT3', 'Rapid', 'johhnybravo', 2155, 'lili4ka1403', 2182, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ne5,d6,Nxg4,Bg7,Bc4,Be6,Bxe6,fxe6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,b3,Nc6,Bb2,Ke7,Nd2,Rd8,Nf3,Ke6,Ng5+,Ke7,Nf3,Ke6,O-O,Nh6,Ng5+,Ke7,Nxh6,Bxh6,Nf3,Ke6,Rad1,Rhg8,Kf2,Rge8,g4,fxg3+,Kxg3,Bf4+,Kh3,Rxd1,Rxd1,Rg8,Rg1,Rxg1,Nxg1,Nd4,Bxd4,exd4,Kg4,Be3,Nf3,c5,Ng5+', 'Bxg5,Kxg5,Ke5', 'https://lichess.org/training/fmqT3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FMr5H', 'Rapid', 'dmartinezn', 2138, 'amitbhalla62', 1978, 'e4,e6,d4,c6,Nf3,d5,e5,Qb6,Bd3,c5,c3,cxd4,cxd4,Bb4+,Nc3,Nc6,O-O,Bd7,Bc2,Nge7,a3,Bxc3,bxc3,O-O,Qd3,Ng6,h4,h5,Ng5,Nce7,Qf3,f6,exf6,gxf6,Qxh5,fxg5,Bxg6,Nxg6,Qxg6+,Kh8,Bxg5,e5,Qh5+,Kg8,dxe5,Bb5,Bf6,Rxf6,exf6,Qxf6,Rfe1,Rf8,Qxd5+,Kh7,Qh5+,Kg8,Qg5+,Qxg5,hxg5,Bc6,Re5,Rf4,Rae1,Rg4,g3,Ra4,f4,Rxa3,R5e3,Ra2,f5,Rg2+,Kf1,Rh2,R3e2,Bb5,f6,Kf7,g4,a5,Rb1,Bxe2+,Kg1,Rh4,Rxb7+,Kf8,Kf2,Bd3,Kg3,Rh1,Ra7,Ra1,Kf4,a4,Ke3,Bg6,Rg7,Bc2,Kd2,Be4,Re7,Bb1,Re1,a3,g6', 'Ra2+,Ke3,Bxg6', 'https://lichess.org/training/FMr5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FmS83', 'Blitz', 'Mabel1479', 2404, 'FM refresher', 2487, 'd4,e6,Nf3,f5,h4,Nf6,g3,Be7,Bg2,O-O,h5,Ne4,h6,g5,c4,d5,b3,c6,Bb2,Bd7,Nbd2,Be8,Qc2,Nd7,e3,Bg6,O-O-O,a5,Nxe4,fxe4,Ne5,Nxe5,dxe5,Qb6,Bh3,Bf5,Bxf5,Rxf5,g4,Rf3,Bd4,Qd8,cxd5,cxd5,Kb1,Rc8,Qd2,Bb4,Qe2,Qf8,Rc1,Rxc1+,Rxc1,Rxf2,Qb5,Ba3,Rd1,Qf3,Qe8+,Bf8,Qxe6+,Qf7,Qb6,Qf3,Rc1,Qe2,Qe6+', 'Kh8,Qf6+,Rxf6', 'https://lichess.org/training/FmS83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FMTiR', 'Blitz', 'Scarff', 1514, 'Antukura', 1722, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bg5,Bg7,Qd2,O-O,h4,h5,Bh6,Qb6,Bxg7,Kxg7,O-O-O,Nc6,Nxc6,bxc6,Be2,Rb8,b3,Qa5,g4,Bxg4,Bxg4,Nxg4,Rdg1,Nxf2,Qxf2,Qxc3,Rg3,Qe5,Rhg1,a5,Qe2,Rb4,Rg5,Qxe4,Qxh5,Qxh4', 'Rxg6+,fxg6,Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/FMTiR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fMTkk', 'Classical', 'TheUn-Castler', 1601, 'Nick_nomber1', 1683, 'Nf3,Nc6,c4,e5,Nc3,Bc5,d3,Nf6,a3,Ng4,Ne4,Be7,h3,Nf6,Nxf6+,Bxf6,b4', 'e4,Ra2,exf3', 'https://lichess.org/training/fMTkk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FMug7', 'Rapid', 'Rodge1966', 2041, 'Ahmed_Elhemaly', 2001, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,d3,a6,a3,O-O,Be3,d6,h3,Be6,Bxe6,fxe6,Qb3,d5,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/FMug7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FmV6T', 'Rapid', 'sujit1234', 1766, 'abolfazl-gh', 1861, 'e4,e5,Bc4,Nf6,d3,h6,b3,a6,b4,Bxb4+,Bd2,Bxd2+,Nxd2,b5,Bb3,c5,Ngf3,Nc6,O-O,O-O,c3,Bb7,Re1,Qa5,Rc1,Rac8,Bd5,Nxd5,exd5,Ne7,c4,bxc4,dxc4,Qxa2,Rxe5,d6,Rxe7,Ba8,Ra1,Qb2,Rxa6,Rce8,Rxe8,Rxe8,Rxd6,Bb7,Qb3,Qc1+,Nf1,Bc8,Nd2,Bg4,f3,Bf5,Rb6,Re1,d6', 'Qxd2,Rb8+,Kh7', 'https://lichess.org/training/FmV6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FmvQ9', 'Rapid', 'Abracombra', 1972, 'folio3', 1953, 'Nf3,c5,e3,Nc6,d4,e6,b3,d5,Bd3,Nf6,Bb2,Be7,O-O,O-O,Nbd2,b6,Ne5,Bb7,f4,cxd4,exd4,Rc8,a3,Nxe5,fxe5,Ne4,Nxe4,dxe4,Bc4,a6,a4,Qd7,Qe2,Rb8,Bxa6,Bd5,Bc4,Rfc8,Bb5,Qc7,Rac1,f5,exf6,Bxf6,Qg4,Qe7,c4,Bb7,Bc3,Rd8,Bb4', 'Bxd4+,Kh1,Qxb4', 'https://lichess.org/training/FmvQ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fmw8G', 'Rapid', 'fridayfreddy', 1785, 'Temple1', 1879, 'e4,e6,Nf3,c6,c3,d6,d4,Ne7,Bf4,Ng6,Bg3,Be7,Nbd2,Nd7,Bd3,b6,O-O,Bb7,c4,c5,d5,e5,a4,a5,Nb1,O-O,Nc3,Ba6,Nd2,Bh4,Bxh4,Qxh4,Ndb1,Nf4,Qf3,Nf6,h3,N6h5,Na3,Bc8,Kh2,Nxd3,Qxd3,Qf4+,Kg1,Qg5,Ne2,Nf4,Nxf4,Qxf4,Nb5,Rd8,Rfe1,Qg5,Re3,f5,Rg3,Qf6,f3,f4,Rg4,Bxg4,hxg4,Rab8,Kf1,Rb7,Ke2,Qh4,Qc2,Qg3,Rg1,Qh2,Qd1,Rf7,Qf1,Rf6', 'Rh1,Qg3,Rh3,Qxh3,gxh3', 'https://lichess.org/training/Fmw8G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FmX9D', 'Rapid', 'Rahul2014', 1765, 'Shamit1234', 1789, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Nc3,e6,Bg5,Be7,Bd3,h6,Bxf6,Bxf6,Be2,Nc6,a3,Qb6,Bb5,O-O,Bxc6,bxc6,Rb1,Ba6,Na4,Qa5+,Nc3,Rab8,b4,Qxa3', 'Rb3,Qxb3,cxb3', 'https://lichess.org/training/FmX9D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fmXG0', 'Rapid', 'Grigoriy1997', 2081, 'timoru', 2129, 'Nf3,Nf6,c4,e6,g3,d5,d4,Bb4+,Bd2,Be7,Bg2,O-O,O-O,dxc4,Qc2,a6,Qxc4,b5,Qc2,Bb7,Rc1,c6,e3,Nbd7,b4,Nd5,Qb2,a5,bxa5,b4,a3,Qxa5,a4,c5,e4,N5b6,dxc5,Bxc5,Rxc5,Qxc5,Bxb4,Qc7,Bxf8,Nxf8,Nbd2,Rxa4,Rb1,Nfd7,Bf1,Bxe4,Nxe4,Rxe4,Bd3,Ra4,Rc1,Qd6,Rd1,Qb4,Qe2,g6,Ne5,Nxe5,Qxe5,Nd5', 'Rb1,Qxb1+,Bxb1', 'https://lichess.org/training/fmXG0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fmyNi', 'Rapid', 'Lead2000', 1782, 'DaniloMag', 1747, 'e4,e5,f4,exf4,Nf3,d6,Bc4,h6,d4,g5,Nc3,Bg4,h3,Bxf3,Qxf3,Nc6,d5,Ne5,Qe2,Nxc4,Qxc4,Qd7,Nb5,Kd8,Nd4,Ne7,b3,Bg7,Bb2,a6,Ne6+,fxe6,Bxg7,exd5,exd5,Rh7,Bf6,Kc8,O-O-O,Nf5,Bd4,Nxd4,Rxd4,b6,Re1,Re7,Rde4,Rxe4,Rxe4,Kb7,a4,Re8', 'Qc6+,Qxc6,dxc6+,Kxc6,Rxe8', 'https://lichess.org/training/fmyNi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FMZXi', 'Rapid', 'krd93', 1755, 'stenodi', 1824, 'd4,d5,Bf4,e6,e3,Bd6,Nf3,Bxf4,exf4,Nf6,Bd3,Nc6,c3,Ne4,O-O,f5,Ne5,Nxe5,fxe5,g5,f3,Ng3,hxg3,h5,Kf2,h4,gxh4,gxh4,Rh1,Qg5,Qg1,Qg3+,Ke2,a5,Rh3,Qg5,Nd2,b6,Bb5+,Bd7,Bxd7+,Kxd7,Rf1,b5,f4,Qg4+,Kd3,b4,Qf2,bxc3,Kxc3,a4,Rfh1,a3,b3,Rag8,Rxh4,Rxh4,Rxh4,Qd1,Rh7+,Kc6,Qf1', 'Rg3+,Kb4,Qxd2+', 'https://lichess.org/training/FMZXi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fN0gu', 'Rapid', 'Butron', 1934, 'Mate96', 2004, 'd4,Nf6,Nc3,e6,Bg5,Be7,a3,O-O,h3,d5,Nf3,b6,e3,Bb7,Bd3,h6,Bh4,Nbd7,Bg3,Rc8,O-O,c5,dxc5,Nxc5,Re1,Nce4,Bh4,Nxc3,bxc3,Rxc3,Qd2,Rxa3,Rxa3,Bxa3,Ra1,Be7,Rxa7,Qc7,Bg3,Qd7,Ne5,Qc8,Bh4,g5,Bg3,Nd7,Qe2,Bf6,Nxd7,Qxd7,Ba6,Bxa6,Rxa6,Qc6,h4,Rc8,hxg5,hxg5,Qh5,Qxc2,Ra7,Qg6,Qxg6+,fxg6,Rb7,Rc1+,Kh2,Rb1,Bc7,b5,Rb6,Kf7,Bd6,Bd8,Rb7+,Kf6,g4,Ba5,Rb8,b4,Rf8+,Kg7,Ra8,Bb6,Rb8,Ba5,Rb7+,Kf6,Ra7,Bd8,Rd7,Ba5,Ra7,Bb6,Rb7,Ba5,Rb5,Ra1,Bc5,Ra2,Rb7,Rxf2+,Kg3,Rb2', 'Bd4+,e5,Bxb2', 'https://lichess.org/training/fN0gu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fn1He', 'Blitz', 'delmato', 2412, 'FM Fleetwood_Mac', 2459, 'd4,d5,Nc3,c5,e4,dxe4,Bb5+,Bd7,dxc5,e6,Be3,Qa5,a3', 'Bxb5,b4,Qa6', 'https://lichess.org/training/Fn1He');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fn1wS', 'Rapid', 'bayramov967', 1862, 'carlospaz24', 2209, 'd4,d5,c4,e6,Nc3,Be7,f3,Bd6,e4,Qh4+,Ke2,dxc4,Qa4+,c6,Qxc4,b6,Nh3', 'Ba6,Qxa6,Nxa6', 'https://lichess.org/training/Fn1wS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fN3X1', 'Bullet', 'Amiriiiiiiii', 1828, 'alanare-88', 1835, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,Nf6,Bd3,Be7,Be3,O-O,O-O,c6,h3,b5,a3,a5,Ne4,Nxe4,Bxe4,Bb7,c3,Qc7,Qd3,h6,Qe2,Nd7,Nh2,Nf6,Bc2,c5,Ng4,Nxg4,Qxg4,Kh8,Qh5,cxd4,Bxh6,Kg8,Qg4,Bf6,Bf4,e5,Bg5,Bxg5,Qxg5,dxc3,bxc3,Qxc3,Rac1,Qxa3,Qf5,g6,Qxe5,Rac8,Rfd1,Qc3,Qg5,Qb2,Bxg6,Rxc1,Bxf7+,Kxf7,Rxc1,Qf6,Rc7+,Ke8,Qe3+,Kd8,Rxb7,Re8,Qd3+,Kc8,Qxb5,Re1+,Kh2', 'Qf4+,g3,Qxf2#', 'https://lichess.org/training/fN3X1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fn4HJ', 'Rapid', 'david2619', 1913, 'edzilber', 1935, 'e4,c5,Nf3,g6,d4,Bg7,dxc5,Qa5+,c3,Qxc5,Be3,Qc7,Be2,d6,O-O,Nf6,Nbd2,Nc6,Nd4,a6,Nxc6,bxc6,Rc1,O-O,Re1,Be6,Qa4,a5,f4,Rfb8,b3,Ng4,Bxg4,Bxg4,Bd4,c5,Bxg7,Kxg7,f5,gxf5,h3,Bh5,exf5,f6,Re3,Rg8,Rce1,Rae8,Qh4,Bf7,Nf1,Bd5,Ng3,Kh8,Ne4,Bxe4,Rxe4,Rg7,c4,Reg8,g4,Qd7,Kh2,Rb8,Rxe7', 'Rxe7,Qxf6+,Rg7', 'https://lichess.org/training/fn4HJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fN4Lj', 'Rapid', 'BennMaxx', 1880, 'astromight', 1765, 'd4,d5,Nf3,f5,Bf4,Nf6,e3,e6,c3,Be7,Nbd2,O-O,Bd3,Ne4,O-O,g5,Be5,g4,Bxe4,fxe4,Ne1,Nd7,Qxg4+,Kf7,Qh5+,Kg8,f4,Nf6,Qh3,Bd7,g4,Be8,g5,Nh5,Qxe6+,Bf7,Qg4,Ng7,h4,Be6,Qg3,Nf5,Qh2,h6,Qf2,Qe8,Ng2,Qh5,Rac1,hxg5,fxg5,Nxd4,Nf4,Qg4+,Kh2,Rxf4,exf4,Qh3+,Kg1,Nf5,Qh2,Qe3+,Kh1', 'Ng3+,Kg2,Nxf1,Rxf1,Qxd2+', 'https://lichess.org/training/fN4Lj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FN4RP', 'Classical', 'chaplainp', 2064, 'Matealvaro_Moiseenko', 1896, 'Nf3,Nf6,g3,d5,Bg2,Bf5,d3,Nbd7,O-O,e5,c3,Bd6,Qc2,O-O,Nh4,Be6,e4,c6,a4,a5,Na3,Ng4,h3,Ngf6,Be3,Nc5,Bxc5,Bxc5,Kh2,Nd7,Nf5,g6,Ne3,Nb6,Rfd1,f5,d4,exd4,cxd4,Bxa3,exf5,Bxb2,Qxb2,Bxf5,Nxf5,Rxf5,f4,Qc7,Rdb1,Nc4,Qxb7,Qxb7,Rxb7,Rf7,Rab1,Ra7,Rxf7,Kxf7,Rb8,Re7,Rc8,Re6,Rxc6,Rxc6,Bxd5+,Ke7,Bxc6,Kd6,Bf3,Nb2,Kg2,Nxa4,Kf2,Nc3,Ke3,a4,Kd3,Nb5,d5', 'a3,Kc2,Nd4+', 'https://lichess.org/training/FN4RP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FN5KJ', 'Rapid', 'Awangard6', 1981, 'loureda2', 2051, 'e4,c6,Nf3,d5,exd5,cxd5,c3,Bf5,d4,e6,h3,h6,Bd3,Bxd3,Qxd3,Nf6,Nbd2,Bd6,b3,Nc6,Bb2,O-O,O-O-O,a6,Kb1,b5,Rhe1,Qe7,Ne5,Rac8,f4,Ba3,f5,Bxb2,Kxb2,b4,Rc1,bxc3+,Rxc3,Nxe5,dxe5,Ne4,Nxe4,dxe4,Qxe4,Rxc3,Kxc3,Rc8+,Kb2,Qc5,Qd3,Qf2+,Qe2,Qxf5,Rf1,Qg5,g4,Rd8,Rf2,Rd5,Qf3,Qxe5+,Qc3,Qe4,Rc2,Rd3,Qc8+,Kh7,Qxa6,Rxh3,Qc4,Qe5+,Ka3,Qa5+,Kb2,Qg5,Qe4+,g6,Rc7,Rh2+,Rc2,Qf6+,Ka3,Qe7+,Kb2,Rxc2+,Kxc2,Qc5+,Qc4,Qxc4+,bxc4,Kg7,c5,Kf8,Kc3,Ke7,Kd4,f5,gxf5,exf5,a4,Kd7,Kd5,h5,a5,h4,a6,Kc7,a7,Kb7,Kd6,h3,a8=Q+,Kxa8,c6,h2,c7,h1=Q,c8=Q+,Ka7,Qc5+,Ka6,Qa3+,Kb5,Qc5+,Ka4,Qd4+,Kb3,Qd3+,Kb2,Qd2+,Kb1,Qd3+,Kc1,Qe3+,Kd1,Qd3+,Ke1', 'Qb1+,Kf2,Qxh1', 'https://lichess.org/training/FN5KJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fn8ks', 'Rapid', 'tearuanewone', 1773, 'Nariks', 1773, 'e4,g6,d4,Bg7,Nf3,Nf6,e5,Nd5,Bc4,Nb6,Bb3,O-O,O-O,d6,Nc3,dxe5,dxe5,Bg4,Qxd8,Rxd8,Bf4,Bxf3,gxf3,Nc6,e6,f5,Bxc7,Rd2,Bxb6,axb6,Rad1,Rad8,Rxd2,Rxd2,Rd1', 'Bxc3,Rxd2,Bxd2', 'https://lichess.org/training/fn8ks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FndGP', 'Rapid', 'timuru', 1950, 'jdfmg', 1838, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,d6,d4,exd4,cxd4,Bb6,a4,a6,a5,Ba7,Nc3,h6,Qb3,O-O,Be3,Ne7,e5,dxe5,dxe5,Nh7,Rad1,Qe8,e6,Bxe6,Bxe6,fxe6,Qxe6+,Qf7,Qd7,Bxe3,fxe3,Rac8,Rd4,Nf6,Qa4,Qe8,Qb3+,Kh8,Qxb7,Rb8,Qxa6,Rxb2,Qc4,Qg6,Rd2,Rfb8,Qxc7,Nf5,Rxb2,Rxb2,Rf2,Rxf2,Kxf2,Ng4+,Ke2,Qa6+,Kd2,Qg6,e4,Nfe3,h3,Nf1+,Ke2,Qa6+,Kd1,Nge3+,Kc1,Ng3,Qxg3,Qxa5,Qb8+,Kh7,Qb2,Nc4,Qc2,Kh8,Na4,Qb5,Nd4', 'Qg5+,Kd1,Ne3+,Kd2,Nxc2+', 'https://lichess.org/training/FndGP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fNEjK', 'Rapid', 'laloy', 1800, 'MaksOm09', 1791, 'c4,b6,d4,Ba6,e3,e6,Nc3,Bb4,Bd2,d5', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/fNEjK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fNEm9', 'Blitz', 'HassanAyman', 1786, 'BananaGround', 1894, 'Nc3,d5,e4,d4,Nce2,e5,d3,c5,Nf3,Nc6,Ng3,Bd6,Be2,Nf6,O-O,h6,Nh4,Be6,f4,exf4,Bxf4,Ne5,Nhf5,g5,Ng7+,Kf8,Nxe6+,fxe6,Bxe5,Bxe5,Nh5,Kg8,Nxf6+,Bxf6,Bh5,Kh7,Qg4,Qe7,Rxf6,Qxf6,Rf1,Qe5,Rf7+,Kg8,Rxb7,Rh7,Rxh7,Kxh7,Qf3,Rg8,Qf7+,Rg7', 'Bg6+,Kh8,Qf8+,Rg8,Qxh6#', 'https://lichess.org/training/fNEm9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FnfYf', 'Blitz', 'SURENUSHKA', 1800, 'Lacky_Den', 1710, 'e4,Nc6,d4,e6,d5,Ne5,Bf4,Bd6,dxe6,fxe6,Nc3,g6,Nf3,Qf6,Bxe5,Bxe5,Nxe5,Qxe5,Bd3,d5,O-O,d4,Ne2,c5,Bb5+,Bd7,Bxd7+,Kxd7,Qd3,Kc7,c3,Rd8,cxd4,cxd4,Rac1+,Kb8,Qc4,Nf6,Rfd1,Qxe4,Rxd4,Rxd4', 'Qc7+,Ka8,Qc8+,Rxc8,Rxc8#', 'https://lichess.org/training/FnfYf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FnGhh', 'Rapid', 'prutis', 1923, 'Rndrps', 1951, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Bg3,Bxg3,hxg3,Nbd7,Bd3,c5,c3,cxd4,exd4,a6,Nbd2,b5,Ne5,Qc7,Qe2,Bb7,Ndf3,Ne4,Qe3,h6,Nxd7,Qxd7,Ne5,Qc7,Qf4,Nf6,g4,O-O-O,O-O-O,Ne4,Bxe4,dxe4,Qxf7,Rhf8,Qxe6+,Kb8,f3,b4,Kc2,Rf6,Qb3,bxc3,bxc3,Rb6,Qc4,Qe7,Rb1,Rc8,Qa4,Rd6,Rb4,Ka7,Rhb1,Rc7,Rxb7+,Rxb7,Nc6+', 'Rxc6,Qxc6,Rxb1', 'https://lichess.org/training/FnGhh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FNGoA', 'Rapid', 'Wickerman06', 1705, 'MGGM1200', 1705, 'e4,e5,Nf3,Nf6,Nc3,c6,d4,exd4,Nxd4,Nxe4,Nxe4,Qe7,Qe2,d5,Nf5,Qxe4,Qxe4+,dxe4,Ng3,f5,Bc4,b5,Bb3,a5,a4,bxa4,Rxa4,Bd7,Rc4,Be7,Be3,O-O', 'Rxe4+,Kh8,Rxe7', 'https://lichess.org/training/FNGoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fNiDd', 'Classical', 'efremoviv', 1958, 'Jarulf', 1859, 'Nf3,f5,e3,Nf6,b3,d6,Bb2,e5,Be2,b6,O-O,Bb7,d3,Be7,Nfd2,O-O,f4,Nc6,fxe5,dxe5,Rxf5,Bd6,e4,Qe7,Nc3,Nd4,Rf1,Rf7,Nc4,Raf8,Nxd6,Qxd6,Qd2,c5,Rae1,Bc8,h3,h6,Bd1,Be6,Ne2,Qd7,Nxd4,cxd4,Ba3,Rc8,Bb2,Qe7,c3', 'dxc3,Bxc3,Qc5+,d4,Qxc3,Qxc3,Rxc3', 'https://lichess.org/training/fNiDd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fnJI4', 'Rapid', 'josel1', 1609, 'solonaskyriakides1', 1637, 'e4,c5,Nf3,Nc6,Bd3,d6,O-O,Nf6,h3,e6,Nc3,Be7,a3,O-O,Re1,a6,e5,dxe5,Nxe5,Nxe5,Rxe5,Bd6,Re1,b5,Ne4,Nxe4,Bxe4,Ra7,d3,Qf6,Re3,Bb7,Rf3,Qe5,Bf4,Qxf4,Rxf4,Bxf4,Qf3,Bxe4,Qxe4,Bh6,g4,Rd7,h4,g6,f4,Rd4,Qc6,Rxf4,Qxa6,Rxg4+,Kf2,Rxh4,Qxb5,Rh5,Qc4,Rd8,a4,Rd4,Qb5,Re5', 'Qb8+,Bf8,Qxe5', 'https://lichess.org/training/fnJI4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FnjSc', 'Blitz', 'MEDGN', 1590, 'm-r-a', 1597, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nf3,Nf6,e5,Nd5,Nc3,Nde7,a3,a6,Na4,Qa5+,Nc3,b5,Bd2,Qb6,Be3,Qc7,Bd3,g6,O-O,Bg7,Qd2,O-O,Bh6,Nf5,Bxf5,exf5,Bxg7,Kxg7,Qg5,Qd8,Qg3,Bb7,Ne2,Qe7,Nf4,Kh8,Nd5,Qd8,Nf6,Rg8,Qh4,Rg7,Ng5,h5,Qg3,Nxd4,Nxf7+,Rxf7,Qxg6,Qe7', 'Qxh5+,Rh7,Nxh7,Qxh7,Qxh7+,Kxh7,Rfd1,Nb3,Rxd7+', 'https://lichess.org/training/FnjSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fnjwo', 'Rapid', 'troytoy', 1675, 'literabit4477', 1688, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d4,exd4,e5,Nd5,c4,dxc3', 'Qxd5,cxb2,Bxb2', 'https://lichess.org/training/fnjwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fNL4k', 'Blitz', 'Mr_Ikemen', 2152, 'FM eksponat777', 2436, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bd3,Bxd3,Qxd3,e6,Nf3,Qa5+,c3,Qa6,Qc2,c5,Be3,cxd4,cxd4,Bb4+,Nc3,Nc6,a3,Nge7,Rc1,Bxc3+,Qxc3,Nf5,Qd2,O-O,Qe2,Qxe2+,Kxe2,Rac8,b4,a6,g3,Rc7,Kd3,Rfc8,Rc5,b6,Rcc1,Nxe3,Kxe3,Nxe5,Rxc7,Ng4+,Kd3,Rxc7,Rf1,f6,Nd2,e5,f3,Nh6,Re1,Nf7,a4,Kf8,Re2,Ke7,dxe5,fxe5,f4,Kd6,fxe5+,Nxe5+,Kd4,Rc2', 'Ne4+,dxe4,Rxc2', 'https://lichess.org/training/fNL4k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FNnF5', 'Rapid', 'simulakr', 1878, 'Franciscano', 1814, 'e3,e5,b3,Nf6,Bb2,Nc6,Bb5,d6,Ne2,a6,Bxc6+,bxc6,O-O,Be7,Ng3,O-O,d4,exd4,exd4,d5,c4,Be6,c5,Rb8,Nd2,Ng4,h3,Nh6,Nf3,Nf5,Nxf5,Bxf5,Ne5,Qe8,Qf3,Be4,Qg3,f6,Ng4,f5,Ne5,f4,Qg4,Bf5,Qxf4,Bxh3,Qg3,Bf5,Bc1,Be4,f3,Bf5,Re1,Qh5,Nxc6,Bh4,Qh2', 'Bf2+,Kh1,Qxh2+,Kxh2,Bxe1', 'https://lichess.org/training/FNnF5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FnouL', 'Classical', 'Learning_To_Play', 1945, 'Indra_Jaya_Dawam', 1845, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Nxf3,e6,Be3,Nc6,Bd3,b6,O-O,Bb7,Ne5,Nd5,Nxf7,Nxe3,Nxd8,Nxd1,Nxb7,Nxc3,bxc3,Rb8,Be4,Kd7,d5,exd5,Bxd5,Rxb7,Rf7+,Kd6,Rd1,Rb8,Bf3+,Ke6,Bd5+,Kd6,Bb3+,Ke5', 'Re1+,Kd6,Re6+,Kc5,Rf5+,Ne5,Rfxe5#', 'https://lichess.org/training/FnouL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FnoXh', 'Blitz', 'LM Lightsss', 2202, 'Nosferatum', 1935, 'Nf3,Nf6,g3,d6,d4,Nbd7,Bg2,e5,O-O,exd4,Nxd4,Be7,c4,O-O,Nc3,Ne5,b3,a6,e4,Bg4,f3,Bd7,Be3,Qc8,Qd2,Bh3,Rad1,Bxg2,Kxg2,Ng6,Nf5,Bd8,Bg5,h6,Bxh6,gxh6,Qxh6,Ne8,h4,Bf6,Nd5,Bg7,Qe3,Qd7,h5,Ne5,h6,Bf6,Rh1,Kh7,f4,Ng4,Qf3,Rg8,Rh5,c6,Nb6,Qd8,Nxa8,Qxa8,Nxd6,Nxd6,Rxd6,Qa7,e5,Be7,Qe4+,Kh8,Rd2,Qc5,h7,Rd8,Re2,Rd1,Kh3', 'Nf2+,Rxf2,Qxf2', 'https://lichess.org/training/FnoXh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FnP2c', 'Classical', 'lyubooo', 1621, 'ssrdo', 1609, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,Bg5,Bg7,e5,Nc6,Qc4,Nxe5,Nxe5,Qa5+,Nd2,Qxe5+,Be3,O-O,Bd3,Bh6,O-O-O,Bxe3,fxe3,Qxe3,Rde1,Qg5,h4,Qxg2,Be2,Qc6,Qd3,a6,h5,d6,hxg6,hxg6,Reg1,Bf5,Qb3,Rac8,c3,Be6,Qd1,Bxa2,Bh5,Nh7,Bxg6,fxg6,Rxg6+,Kh8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/FnP2c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FnP76', 'Rapid', 'Brawl_stars_leon', 2016, 'zombiedrake', 2122, 'e4,b6,Nf3,Bb7,Bc4,e6,d3,d5,exd5,exd5,Bb3,Nf6,d4,Be7,O-O,O-O,Bg5,Na6,c3,c5,Bc2,h6,Bxf6,Bxf6,Qd3,g6,Qe3,Bg7,Qd2,cxd4,cxd4,Nc7,Nc3,Re8,Rfe1,Rc8,Rxe8+,Qxe8,Re1,Qd7,Ne5,Bxe5,Rxe5,Kg7,Qe2,Re8,Rxe8,Qxe8,Qxe8,Nxe8,Bb3,Nc7,a4,Kf6,Kf1,Ke7,Nb5,Nxb5,axb5,Kd6,Ke2,Bc8,f3,Bd7,Ba4,Kc7,Bb3,Kd6,Ba4,a6,b4,a5,bxa5,bxa5,Ke3,Kc7', 'b6+,Kc8,b7+,Kxb7,Bxd7', 'https://lichess.org/training/FnP76');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FNPDX', 'Rapid', 'segona', 1659, 'TESTING99', 1613, 'e4,c5,c3,e6,d4,d5,exd5,Qxd5,Nf3,Nc6,Bb5,Bd7,O-O,h6,Re1,c4,Qe2,a6,Bxc4,Qh5,d5,Na5,dxe6,Bxe6,Bxe6,fxe6,Qxe6+,Be7,Re5,g5,Rxa5,Nf6,Rf5,Rd8,h3,Rd1+,Kh2,Ng4+,Kg3,Nxf2,Kxf2,Rf8,Rxf8+,Kxf8,Ne5,Bc5+,Be3,Qh4+,g3,Bxe3+,Kxe3', 'Qxg3+,Nf3,Re1+', 'https://lichess.org/training/FNPDX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fnQOu', 'Rapid', 'elhadad', 1874, 'VIKTOROMSK', 1877, 'd4,d5,Nf3,Bf5,Nc3,e6,h3,a6,e3,h6,Be2,Bb4,Bd2,Ne7,a3,Ba5,b4,Bb6,a4,O-O,a5,Ba7,O-O,b6,Nh4,Bh7,Nf3,c5,bxc5,bxc5,dxc5,Bxc5,Ne5,Qd6,Ng4,Nbc6,Bf3,Ba7,Na4,Bb8,g3,Ne5,Nxe5,Qxe5,Nc5,Be4,Bg2,Bxg2,Kxg2,d4,Nd7,Qd5+,e4,Qxd7,Bb4,Be5,f4,Bd6,Qxd4,Rfd8,Rfd1,Nc6,Qxd6,Qxd6,Rxd6', 'Nxb4,Rxd8+,Rxd8', 'https://lichess.org/training/fnQOu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FnR2E', 'Blitz', 'sjzk', 1782, 'Chesshole1', 1777, 'Nf3,d5,c4,e6,g3,dxc4,Bg2,c6,O-O,Nd7,Qc2,Nb6,Ne5,Qd4,Nxc6,bxc6,Bxc6+,Bd7,Bxa8,Nxa8,Nc3,Nf6,a4,Be7,Nb5,Bxb5,axb5,O-O,Qa4,Bc5,d3,Nb6,Qxa7,cxd3,Be3,Qb4,Bxc5,Qxc5,Rac1,Qxb5,exd3,Ra8,Qb7,Nfd5', 'Qxa8+,Nxa8,Rc8+,Qe8,Rxe8#', 'https://lichess.org/training/FnR2E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fns79', 'Rapid', 'ldpsico', 2031, 'rockdesire', 1980, 'd4,d5,Nf3,Nc6,e3,Bg4,Nbd2,e5,dxe5,Nxe5,Be2,Bxf3,Nxf3,Nxf3+,Bxf3,Nf6,O-O,Bd6,b3,O-O,Bb2,c6,Qe2,Qc7,g3,Rfe8,c4,Be5,cxd5,Bxb2,Qxb2,cxd5,Rac1,Qa5,Rfd1,Rad8,Rd4,Rd6,Rcd1,Qc5,Kg2,Qc6,a4,h5,Be2,a6,Rh4,g5,Rhd4,g4,Qb1,Ne4,Rc1,Qd7,Bd3,Nd2,Qc2,Nf3,Bh7+,Kg7,Rf4,Rc6,Qb2+,Kxh7,Rxc6,Qxc6', 'Rxf7+,Kg6,Qg7#', 'https://lichess.org/training/Fns79');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FnSIK', 'Rapid', 'simondp', 1922, 'younameit', 1932, 'd4,Nf6,c4,e6,Nc3,Be7,Nf3,O-O,e4,d5,e5,Ne4,Bd3,f5,exf6,Nxf6,O-O,b6,cxd5,exd5,Re1,Bb7,Bc2,c5,Qd3,c4,Qd2,Nc6,b3,Rc8,Bb2,a6,Rad1,b5,Ne5,b4,bxc4,bxc3,Qxc3,Nxe5,dxe5,Ng4,Bxh7+,Kxh7,Qh3+,Nh6,cxd5,Rc2', 'Qd3+,g6,Qxc2', 'https://lichess.org/training/FnSIK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FNVgw', 'Blitz', 'funkykong1', 1523, 'ChrXL', 1527, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,d3,Nc6,Nc3,Nd4,Bb3,Nxb3,axb3,Be7,O-O,O-O-O,Rxa7,Kb8,Be3,b6,Rfa1,Kc8,Bg5,h6,Bxf6,Bxf6,Nd5,Bg5,Rxc7+,Kb8,Rca7,Kc8,Nxb6+,Kb8,Ra8+,Kc7,Rxd8,Rxd8,Nd5+,Kd7,Ra7+,Ke6,g4,Rc8,c4,Rb8,b4,Bd2,b5,f6,b6,g5,b7,Bf4,Nxf4+,gxf4,Kg2,Kd7,Kf3,Kc7,g5,hxg5,Kg4,Kb6,Ra2,Rxb7,Kf5,Rh7,Kxf6,Rxh3,Kxg5,Rxd3,Kf6,Rd2,f3,Kc5,Ke6,Kxc4', 'b3+,Kc3,Rxd2,Kxd2,b4,Ke2,b5,Kxf3,b6', 'https://lichess.org/training/FNVgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FnVPc', 'Rapid', 'krieger766', 1819, 'MeloFelipe', 1857, 'c4,Nf6,d4,e6,Nc3,Bb4,Bd2,O-O,e3,d5,Nf3,a5,Bd3,dxc4,Bxc4,Bd7,O-O,c6,Qc2,b5,Bd3,Na6,a3,Be7,e4,Rc8,e5,Nd5,Bxh7+,Kh8,Bd3,c5,Nxd5,exd5,dxc5,Rxc5,Qd1,Qb6,Rc1,Rxc1,Qxc1,Rc8,Qe1,Nc5,Bb1,Ne4,Bxa5,Qg6,Bxe4,dxe4,Qe2,exf3,Qxf3,Bc6,Qh3+,Kg8,Re1,Rd8,Bxd8,Bxd8,g3,Ba5,Rc1,Bb7,Qd7', 'Qe4,Qxb7,Qxb7', 'https://lichess.org/training/FnVPc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fnVrt', 'Classical', 'lagrandeaquila', 1769, 'olfato77', 1909, 'e4,d6,Nf3,Bg4,Be2,c6,O-O,e5,d4,Qc7,c4,Nf6,Nc3,Be7,h3,Bxf3,Bxf3,O-O,d5,Nbd7,Be3,Rfd8,Rc1,c5,Nb5,Qb6,b4,a6,bxc5,Nxc5,Nc3,Qc7,Qc2,Rdb8,a4,b6,Be2,h6,f4,exf4,Bxf4,Ncd7,Qd2,Kh7,Bg4,Nxg4,hxg4,g5,Bxg5,Bxg5,Rxf7+,Kg6,Qf2,Rf8', 'Qf5#', 'https://lichess.org/training/fnVrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FNvwt', 'Classical', 'Bulutbeyy', 1644, 'Sergiozambrano', 1704, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d3,a6,Ba4,b5,Bb3,h6,O-O,Ng6,d4,Bb7,d5,Na5,c3,Nxb3,Qxb3,Bc5,Re1,d6,Be3,Bxe3,Rxe3,O-O,Nbd2,Nf4,c4,Qf6,cxb5,Qg6,g3,Nh3+,Kf1,Ng5,b6,cxb6,Qxb6,Rab8,Qa5,Rbc8,Nxg5,Qxg5,Nf3,Qh5,Kg2,Rc2,Rb1,Bc8,Nh4,f5,Qa4,f4,Qxc2,fxe3,fxe3,Qg4,Rf1', 'Qh3+,Kg1,Qxf1#', 'https://lichess.org/training/FNvwt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FnWg6', 'Blitz', 'bob79', 1552, 'Igor_and_Shishikin', 1553, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,d6,Nbd2,Bg4,Qb3,Na5,Qb5+,Nc6,Qxb7,O-O,Qxc6,Nh5,h3,Bxf3,Nxf3,Nf4,Bxf4,exf4,O-O,Kh8,d4,Bb6,Qa4,f5,e5,d5,Bd3,g5,Qc2,g4,hxg4,fxg4,Nh2,g3,fxg3,fxg3,Rxf8+,Qxf8,Nf3,Qh6,Re1,c5,a4,cxd4,cxd4,Rf8,Kf1', 'Qh1+,Ke2,Qxg2+,Kd1,Qxf3+', 'https://lichess.org/training/FnWg6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fnxW8', 'Blitz', 'chessforce', 2268, 'CM VNeustroev', 2214, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,Bg5,h6,Bxf6,Qxf6,e3,g6,Qc2,Bg7,O-O-O,O-O,Kb1,Nd7,e4,dxc4,e5,Qe7,Bxc4,c5,d5,Nxe5,Nxe5,Bxe5,dxe6,Bxe6,Bxe6,Qxe6,Rhe1,Qf6,Nd5,Qg7,f4,Bd4,f5,Rfe8,g4,Rad8,Ne7+,Kh7,fxg6+', 'fxg6,Nxg6,Qxg6', 'https://lichess.org/training/fnxW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fNZ8a', 'Rapid', 'Mirko1014', 1817, 'FranCamani78', 1975, 'e4,c5,f4,Nc6,Nc3,d6,d3,a6,Nf3,Nf6,Be2,e5,f5,Be7,Nd5,Nxd5,exd5,Nb4,c4,a5,O-O,Bxf5,Ne1,Bg6,a3,Na6,Bg4,Nc7,Qf3,O-O,Bh5,Bg5,Bxg6,fxg6', 'Qxf8+,Qxf8,Rxf8+,Kxf8,Bxg5', 'https://lichess.org/training/fNZ8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fnzio', 'Blitz', 'YusufEMRE44', 1798, 'FilStr', 1716, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Bb4,e3,O-O,Nf3,Be7,cxd5,Nxd5,Bxe7,Qxe7,Bd3,Nc6,O-O,b6,Re1,Bb7,Qb3,Ndb4,Ne4,Nxd3,Qxd3,Nb4,Qb1,c5,a3,Nd5,dxc5,bxc5,Qc2,Rac8,Rac1,f5,Nxc5,Rc6,b4,Rfc8,Qb3,a5,e4,Nf4,exf5,Rd6,Nxe6,Nxe6,Rxe6', 'Rxc1+,Re1+,Bd5,Qxd5+,Rxd5', 'https://lichess.org/training/Fnzio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fo4CD', 'Rapid', 'Rondi268', 1851, 'PrincipeCoronado', 1893, 'e4,d6,d4,Nd7,Nf3,c5,c3,e5,Be3,Qb6,Qc2,Ngf6,Nbd2,Be7,Nc4,Qc7,d5,O-O,Bd3,Ng4,O-O,b5,Ncd2,Nxe3,fxe3,c4,Be2,Nc5,b3,cxb3,axb3,f5,b4,Nxe4,Nxe4,fxe4,Qxe4', 'Bf5,Qxf5,Rxf5', 'https://lichess.org/training/fo4CD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fo5Pv', 'Blitz', 'Littlesingamkheshva', 2019, 'syifaa_kota_Bogor', 1646, 'e4,c5,d4,cxd4,Nf3,Nf6,Nbd2,d6,Bd3,e5,Nb3,Nc6,Bg5,Be7,O-O,Be6,Nfd2,O-O,f4,h6,Bxf6,Bxf6,f5,Bxb3,axb3,b6,Rf3,d5,Rg3,Bg5,Nf3,Bf4,Rh3,Nb4,c3,dxc3,bxc3,Nxd3,Qxd3,dxe4,Qxe4,Qd7,g3,Bd2,Rd1,Be3+,Qxe3,Qxd1+,Kg2,Qxb3,f6,Qc2+,Kf1,Rad8,fxg7,Rfe8,Rxh6,Rd3', 'Rh8+,Kxg7,Qh6#', 'https://lichess.org/training/fo5Pv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fo7GF', 'Classical', 'mahdiranjnar', 1620, 'jituchess', 1620, 'e4,e5,Qh5,Nf6,Qxe5+,Be7,d3,Nc6,Qg3,O-O,Be2,Nd4,Bh6,g6,Bd1,Re8,c3,Nb5,e5,Nd5,c4,Bb4+,Bd2,Bxd2+,Nxd2,d6,cxb5,Rxe5+,Ne2,Nf6,O-O,Nh5,Qf3,Qe7,Ng3,Rf5,Qe4,Qxe4,Ndxe4,Nxg3,Nxg3,Rxb5,b3,Rd5,Bc2,h5,Rfe1,Kh7,Re7,Kg7,Rxc7,h4,Ne4,Rf5,Nxd6,h3,Nxf5+,Bxf5,g3,Re8,Rxb7,Re2,Rc1,Rd2,Rxa7,Bxd3,Bxd3,Rxd3,Kf1,Rd2,b4,Rb2,a3,Rb3,Ra1,Kf6,Ra5,g5,Ke2,Rb2+,Kf3,Kg6,Kg4,Rxf2,b5', 'f5+,Kxh3,g4+,Kh4,Rxh2#', 'https://lichess.org/training/Fo7GF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FO7zG', 'Rapid', 'seven-in-the-house', 1767, 'WhiteWalkerI', 1767, 'd4,Nf6,Bg5,e6,c4,Bb4+,Nd2,h6,Bh4,g5,Bg3,Ne4,Nf3,g4,Qa4,Nc6,O-O-O,gxf3,Nxe4,d5,cxd5,exd5,exf3,dxe4,Bb5,Qg5+,f4,Qd5,Bxc6+', 'Qxc6+,Qxc6+,bxc6', 'https://lichess.org/training/FO7zG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FoBxt', 'Classical', 'bioyaseoz', 1737, 'rgnjewels', 1654, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,c6,d3,Nd7,Be3,b5,Bb3,g5,h3,Nb6,Qd2,Qe7,a3,Be6,Bxe6,Qxe6,O-O,Bg7,Rad1,Ne7,d4,Nc4,Qe2,Qd7,dxe5,d5,exd5,cxd5,Rxd5', 'Nxd5,Nxd5,Qxd5', 'https://lichess.org/training/FoBxt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FObzl', 'Rapid', 'Var-like', 2177, 'evergreengt', 2162, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,Ne4,Bh4,c5,cxd5,Nxc3,bxc3,Qxd5,e3,Bg7,Nf3,Nc6,Qb3,Be6,c4,Qd7,Rd1,cxd4,exd4,Nxd4,Nxd4,Bxd4,Be2,Rd8,O-O,O-O,Bg5,Qc7,h4,Bg7,Qb4,Bf6,Bh6,Rfe8,h5,Bg7,Be3,b6,hxg6,hxg6,Rc1,Bd4,Bg5,Kg7,Qb3,Rh8,g3,Rh3,Bf4,Qc8,Bf3,Bg4,Bg2,Rh5,Rce1,e6,Be3,Bxe3,Qxe3,Bh3,Qc3+,Kg8,Qf6,Bxg2,Kxg2,Qc6+,f3,Rd2+,Rf2,Rxf2+,Kxf2,Rf5,Qd8+,Kg7,Qd4+,Kf8,Qd3,Qc5+,Kg2,Ke7,Rd1,Qc7,Qc3,Rg5,Qa3+,Rc5,Qe3,Qe5,Qd2,Qc7,Qh6,Qe5,Qh4+,Kf8', 'Rd8+,Kg7,Qh8#', 'https://lichess.org/training/FObzl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('foCsJ', 'Rapid', 'FrancisSalmon', 2167, 'UesleiMP', 2053, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Rb1,O-O,Be2,cxd4,cxd4,Qa5+,Bd2,Qxa2,O-O,b6,d5,Ba6,Bxa6,Qxa6,Bb4,Re8,e5,Nd7,e6,fxe6,Ng5,e5,Qg4,Nf8,Qh3,h6,Ne6,Nxe6,Qxe6+,Kh7,Bxe7,Qc8,Qxc8,Rexc8,d6,Bf8,d7,Bxe7,dxc8=Q,Rxc8,Rfe1,Bd6,Rbd1,Rc6,Kf1,Kg7,f4,Kf6', 'Rxd6+,Rxd6,fxe5+,Ke6,exd6+', 'https://lichess.org/training/foCsJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fodIG', 'Blitz', 'ALMAVIVA', 1897, 'untekken2', 2184, 'e4,b6,d4,Bb7,Bd3,d6,c4,c5,d5,Nd7,f4,g6,Nf3,Bg7,O-O,Nh6,Nc3,O-O,h3,e6,Be3,exd5,exd5,Re8,Bd2,Nf5,Qc2,Nd4,Nxd4,cxd4,Ne4,Rc8,Nxd6,Qe7,Nxc8,Rxc8,b3,Bxd5,Rae1,Qd6,f5,Be5,fxg6,hxg6,Qd1,Bh2+,Kh1,Bxg2+,Kxg2,Qg3+,Kh1,Qxh3,Qf3', 'Bg3+,Kg1,Qh2#', 'https://lichess.org/training/fodIG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FoEB5', 'Blitz', 'Viet_Maksim', 1918, 'VadimEliseev', 2186, 'e4,e5,d3,Nc6,f4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,fxe5,Qxe5+,Qe2,Bd6,Nf3,Qxe2+,Bxe2,Bg4,O-O,O-O,h3,Bh5,c3,Rae8,Bd1,Bg3,Ba4,Bxf3,Rxf3,Re1+,Rf1,Rfe8,Bxc6', 'Rxf1+,Kxf1,Re1#', 'https://lichess.org/training/FoEB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fOEUJ', 'Blitz', 'redtommy', 2017, 'awadhom', 2127, 'e4,b6,d4,Bb7,Bd3,e6,c4,Nf6,Nc3,Bb4,Qe2,Nc6,Nf3,Bxc3+,bxc3,d6,d5,Na5,Bg5,h6,Bh4,e5,h3,Qd7,c5,bxc5,Bb5,c6,dxc6,Bxc6,a4,a6,Bxa6,Nxe4,Bb5,Bxb5,Qxe4,Bc6,Qd3,e4,Qe2,O-O,Nd2,d5,O-O,f5,Bg3,f4,Bh2,f3,gxf3,Nb3,Nxb3,exf3,Qe5,Rf5,Qd6,Rg5+,Kh1,Qxh3,Rg1,Rg2,Nxc5,Kh7,Ne6,Rxa4,Rxa4', 'Rxg1+,Kxg1,Qg2#', 'https://lichess.org/training/fOEUJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fOFHr', 'Rapid', 'Ajay-Shekhawat', 1819, 'Jingles', 1875, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ng5,f6,Qxg4,h5,Qxf4,fxg5', 'Qe5+,Qe7,Qxh8', 'https://lichess.org/training/fOFHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fogch', 'Rapid', 'laurencevic', 1694, 'vik65', 1826, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,g6,Bc4,Bg7,O-O,h6,Re1,e6,e5,a6,Qd6,Nge7,Bf4,O-O,Ne4,Kh7,Rad1,b5,Bb3,g5,Bg3,Nf5,Qd3,Nxg3,hxg3,Kh8,Nd6,Qe7,Bc2,f5,exf6,Bxf6,Nf5,exf5,Rxe7,Bxe7,Qc3+,Bf6,Qc5,Be7,Qc3+,Bf6,Qd3,Nb4,Qe2,Nxc2,Qxc2,Bg7,b3,Rf7,Qc7,Kg8,Rd6,Kh7,Qc2,Bb7,Nd2,Kh8,Nf1,Bc6,Ne3,Re8,Nxf5,Ref8,Ne3,Rxf2,Qg6,R2f6,Rxf6,Rxf6,Qe8+,Rf8,Qg6,Rf6,Qe8+,Kh7,g4', 'Re6,Qf7,Rxe3', 'https://lichess.org/training/Fogch');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fOgtm', 'Rapid', 'slava2211', 1824, 'Si73', 1766, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Bxf6,Bxf6,e3,d5,Bd3,Bg4,Be2,Nc6,a3,O-O,O-O,Re8,h3,Bf5,Bd3,Qd7,Bxf5,Qxf5,Qd2,e5,dxe5,Nxe5,Nxe5,Qxe5,c3,Be7,Qd4,Qg5,Nd2,Bd6,Nf3,Qe7,Qxd5,c6,Qd1,Rad8,Qe2,Bf4,Nd4,Qd6,Qf3,Bh2+,Kh1,Be5,Rad1,Qe7,Ne2,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,Nd4,c5,Qe4,cxd4,Qxe5', 'd3,Qd4,Qxd4', 'https://lichess.org/training/fOgtm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FOiyc', 'Blitz', 'frostegg', 1877, 'waltzbw2', 1906, 'd4,f6,c4,c6,Nf3,b5,e4,bxc4,Bxc4,f5,Ng5,e6,exf5,Qa5+,Nc3,Qxf5,O-O,Be7,Nf3,Nf6,Re1,O-O,Re5,Qg6,Bd3,Qe8,Bc2,d5,Qd3,Bd6,Rg5,Ba6,Qe3,Nh5,Ne5,Be7,Rxg7+,Nxg7,Bxh7+,Kxh7,Qh6+,Kg8,Ng6,Rf6', 'Qh8+,Kf7,Ne5#', 'https://lichess.org/training/FOiyc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('foj0m', 'Rapid', 'crushstone', 2069, 'Krowndsy', 2087, 'd4,Nf6,Nf3,e6,Bg5,d5,Nbd2,Be7,Bxf6,Bxf6,e4,dxe4,Nxe4,O-O,c3,Be7,Bd3,b6,O-O,Bb7,Qe2,Nd7,Rfd1,c6,Bc2,Qc7,Qd3,g6,a4,a5,Qe2,Rad8,Qe3,Nf6,h3,Nxe4,Bxe4,c5,Bxb7,Qxb7,dxc5,Bxc5,Qh6,f6,Qh4,Rd5,b4,Be7,Qc4,Rc8,Qb3,axb4,cxb4,Rcd8,Re1,e5,Rad1,Kg7,Rxd5,Qxd5,Qxd5,Rxd5,Rb1,e4,Ne1,Rd4,a5,Rxb4,Rxb4,Bxb4,axb6,Kf7,Nc2,Bd6,Kf1,Ke7,Ke2,Kd7,Nd4,Bc5,b7,Ba7,Ke3,Kc7,Kxe4,Bxd4', 'Kxd4,Kxb7,Kd5,Kc7,Ke6', 'https://lichess.org/training/foj0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fOJmw', 'Rapid', 'ralex2010', 1724, 'Ajay_juyal_Lee', 1857, 'e4,c5,c4,Nc6,Nf3,e5,Nc3,Nf6,h3,Be7,Be2,O-O,a3,a6,d3,d6,Be3,Na7,O-O,b5,b3,b4,Nd5,a5,Nxf6+,Bxf6,Nh2,Nc6,a4,Nd4,Bxd4,cxd4,f4,exf4,Rxf4,Be5,Rf1,Qg5,Nf3,Qg3,Nxe5,Bxh3,Rf2,dxe5,Bf3,f5,Raa2,fxe4,Bxe4,Rxf2,Rxf2,Rd8,Qf3,Qxf3,Rxf3,Be6,Kh2,Rf8', 'Bxh7+,Kxh7,Rxf8', 'https://lichess.org/training/fOJmw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fok81', 'Rapid', 'mahmood2014', 1931, 'Birdy2002', 1654, 'e4,d6,d4,Nf6,Bd3,g6,Nf3,c6,c3,Bg7,Qe2,Bg4,h3,Bxf3,Qxf3,O-O,Bg5,Nbd7,Qe3,Qb6,Qd2,e5,Bh6,exd4,cxd4,Qxd4,Bxg7,Kxg7,Nc3,Qe5,O-O,Nc5,Bc2,Rad8,f4,Qe6,f5,Qe5,Rf3,Ncxe4,Re1,Qc5+,Kh2,Nxc3,bxc3,Nd5,fxg6,fxg6,Ref1,Qb6,c4,Nb4,Qc3+,Kg8,Rxf8+,Rxf8,Rxf8+,Kxf8,Qh8+,Ke7,Qxh7+,Kf6,Qxg6+,Ke5,Qf5+,Kd4,Qe4+,Kc5,Bb3,Qc7', 'Qe3#', 'https://lichess.org/training/Fok81');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FoKmh', 'Rapid', 'MatthewA1999', 1705, 'JS-Teltow', 1724, 'e4,e5,Nc3,Nc6,Nf3,Nf6,d3,h6,Bd2,Bc5,Qe2,Nd4,Nxd4,Bxd4,Nb5,Bxb2,Rd1,c6,Nd6+,Kf8,Nc4,Bd4,c3,d5,cxd4,dxc4,dxc4,exd4,Bc1,c5,Bb2,Kg8,e5,Nd7,f4,b6,g3,Kh7', 'Qe4+,g6,Qxa8', 'https://lichess.org/training/FoKmh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fOmj2', 'Rapid', 'ana-ka', 1651, 'Mandrigol', 1648, 'Nf3,c5,c4,Nc6,e3,d6,d3,Bg4,Nc3,f5,h3,Bh5,Be2,Nf6,Bd2,e6,a3,Be7,b4,O-O,b5,Ne5,d4,Ng6,dxc5,dxc5,O-O,Qc7,Nh2,Bxe2,Qxe2,Ne4,Nxe4,fxe4,Bc3,Bd6,Ng4,h5,Nh6+,gxh6,Qxh5,Kh7,g4,Bh2+,Kh1,Be5,g5,Bxc3,Qxh6+,Kg8,Qxg6+,Qg7,Qxe6+,Kh8,Rad1,Rae8,Qg4,Rf3', 'Qh5+,Kg8,Qxe8+', 'https://lichess.org/training/fOmj2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fOmXH', 'Blitz', 'FM Ahmdnjr12512', 2287, 'Eliseyg94', 2305, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be7,O-O,O-O,c3,c5,Be3,c4,Bc2,Nc6,b3,Bg4,bxc4,dxc4,Nbd2,b5,a4,a6,axb5,axb5,Rxa8,Qxa8,Qb1,b4,Nxc4,bxc3,Nfe5,Be6,Nxc6,Qxc6,Ne5,Qd5,h3,Bd6,Ng4,Bxg4,hxg4,Nxg4,Bxh7+,Kh8,Bf5,Rb8,Qe4,Qxe4,Bxe4,Nxe3,fxe3,f6,Rc1,Rc8,Kf2,Ba3', 'Rh1+,Kg8,Bd5+,Kf8,Rh8+,Ke7,Rxc8', 'https://lichess.org/training/fOmXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('foOAg', 'Rapid', 'apollo017', 1919, 'mnbv9753', 1768, 'e4,e5,Nf3,d6,d4,Qe7,Nc3,c6,h3,h6,d5,Qc7,dxc6,bxc6,Bd3,Be7,Be3,Bf6,O-O,Ba6,b4,Bxd3,cxd3,Na6,Qa4,Nb8,b5,Ne7,bxc6,Qxc6,Qb3,Nd7,Rac1,Rb8,Qa3,Nc5,Qxa7', 'Ra8,Qxa8+,Qxa8', 'https://lichess.org/training/foOAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FOogW', 'Rapid', 'lueno', 1916, 'palang2020', 1779, 'Nf3,Nc6,d4,d5,c4,e6,e3,Nf6,Nc3,a6,a4,h6,cxd5,Nxd5,e4,Nf6,e5,Nd5,Bd3,Bb4,Bd2,O-O,O-O,Nb6,Be3,Nd5,Nxd5,exd5,h3,Ne7,Qc2,Ba5,Rac1,c6,Nh2,f5,Bd2,Bxd2,Qxd2,f4,Nf3,Nf5,Bb1,Nh4,Qe2,Be6,Rfe1,Nxf3+,Qxf3,Qg5,Rc3,Rab8,b4,Qe7,b5,Qb4,bxc6,bxc6,Rec1,Rbc8,Bd3,Qxd4,Bxa6,Rc7,Rxc6,Rxc6,Rxc6,Qxe5,Bb7,Rb8', 'Rxe6,Qxe6,Bxd5,Qxd5,Qxd5+', 'https://lichess.org/training/FOogW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('foojH', 'Rapid', 'Blunderjack89', 1971, 'TonusTR', 2100, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,e3,O-O,Bd3,dxc4,Bxc4,b6,O-O,Bb7,a3,Bd6,h3,Nc6,Qc2,Na5,Bd3,g6,Ne4,Nxe4,Bxe4,Bxe4,Qxe4,Qd7,b4,Nc4,Qc2,b5,Rd1,Rfd8,e4,Bf8,Bg5,Be7,d5,Bxg5,Nxg5,Qe7,Nf3,exd5,Rxd5,Rxd5,exd5,Rd8,Rd1,a6,Qd3', 'Nb2,Qd4,Nxd1', 'https://lichess.org/training/foojH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FOoLp', 'Blitz', 'OKER333', 1790, 'Chicho86', 2215, 'e4,c5,Nf3,Nc6,Be2,e6,O-O,Nf6,d3,Be7,c4,O-O,Nc3,d5,exd5,exd5,Bg5,dxc4,dxc4,Bg4,Qxd8,Raxd8,Rfd1,h6,Bh4,g5,Bg3,Nd4,Nxd4,cxd4,Bxg4,dxc3,Bf3,cxb2,Rab1,Rxd1+,Bxd1,Ne4,Rxb2,b6,Re2,f5,f3,Bc5+,Kf1,Rd8,Bb3,Nc3,Re1,Rd2,Be5,Nxa2,Bxa2,Rxa2,Ra1,Rf2+,Ke1,Rxg2,Rxa7,f4,h4,Rg3,hxg5,hxg5,Ke2,Rg2+,Kd3,Kf8,Ke4,Rc2,Kf5,Rxc4,Kf6,Be3', 'Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/FOoLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fOpon', 'Rapid', 'JensvanderSloot', 2199, 'AcridLeaf', 2224, 'e4,c5,Nf3,Nc6,c3,Nf6,d4,cxd4,cxd4,Nxe4,Nc3,Nxc3,bxc3,d5,Bf4,e6,Bb5,Bd6,Qd2,O-O,O-O,Bxf4,Qxf4,Qa5,Rab1,a6,Bxc6,bxc6,Qd6,Rd8,Qxc6,Bd7,Qb6,Qxb6,Rxb6,Bb5,Rc1,Rac8,Ne5,f6,Nf3,Kf7,a4,Bxa4,Rxa6,Ra8,Rxa8,Rxa8,Ra1,Rb8,Ne1,Be8,Nd3,Rb3,Ra7+,Kg6,g3,Rxc3,Nf4+,Kf5,Rxg7,Bg6,Re7,Rc1+,Kg2,e5,dxe5,fxe5,Nxd5,Kg5,Rxe5+,Kh6,Ne3,Kg7,h4,Kf6,Rg5,Be4+,Kh3,Rh1+,Kg4,Bd3,f4', 'Be2#', 'https://lichess.org/training/fOpon');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('foUvn', 'Bullet', 'kilobyte05', 2063, 'ZacharyZach', 2083, 'd4,Nf6,Bf4,c5,d5,d6,Nc3,g6,Qd2,Bg7,O-O-O,O-O,Bh6,a6,Bxg7,b5,f3,Kxg7,g4,b4,Ne4,Nxe4,fxe4,Bxg4,Qf4,Qd7,h3,Bh5,Nf3,Bxf3,exf3,f5,e5,dxe5,Qxe5+,Kg8,Bc4,Qd6,Qe3,Nd7,h4,Ne5,Qe2,Nxc4,Qxc4,h5,Rhg1,Kh7,Rde1,Rf6,f4,a5,Re5,a4,Rge1,Rd8,Rxe7+,Kh6,R7e5,a3,b3,Rf7,Qe2,Qf6,Qg2,Qxh4,Qf3,Rfd7,Rh1,Qg4,Qxg4,fxg4,Rd1,g3,f5,gxf5,Rxf5,Kg6,Re5,h4,Rg1,Rxd5,Re4,Kg5,Re7,Kg4,Rg7+,Rg5,Re7,h3,Rge1,h2,R1e4+,Kh3,Rh7+,Kg2,Re2+,Kf1,Re6,g2', 'Rf7+,Rf5,Rxf5+,Kg1,Re1#', 'https://lichess.org/training/foUvn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fOUyl', 'Rapid', 'mairambek69', 2076, 'Ivanhoe123', 1890, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Bd3,Bg4,h3,Bh5,g4,Bg6,Ne5,Nbd7,f4,Bxd3,Qxd3,Ne4,Nc3,e6,Nxe4,dxe4,Qxe4,Qh4+,Ke2,Nxe5,fxe5,O-O-O,Be3,Be7,Bf2,Qh6,h4,f5,exf6,Qxf6,c3,Rhf8,Bg3,e5,Raf1,Qa6+,Kd2', 'Rxf1,Rxf1,Qxf1', 'https://lichess.org/training/fOUyl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('foVLt', 'Blitz', 'hotgirl69', 2134, 'melnikovprokop', 2207, 'e4,e6,d3,d5,Nd2,Nf6,e5,Nfd7,Ngf3,c5,g3,Nc6,Qe2,Be7,Bg2,Qc7,O-O,Ncxe5,Re1,Ng6,c3,O-O,h4,Re8,Ng5,Bxg5,hxg5,b6,Nf3,Bb7,d4,e5,dxe5,Ndxe5,Bf4,Nxf4,gxf4,Nxf3+,Qxf3,Re7,f5,d4', 'Rxe7,Qxe7,Qxb7,Qxb7,Bxb7', 'https://lichess.org/training/foVLt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FOw4i', 'Rapid', 'Patrizio95', 1605, 'mesias', 1736, 'd4,e6,c4,d5,Nc3,c6,Nf3,Nf6,Bg5,Be7,e3,Nbd7,Be2,O-O,O-O,Ne4,Bxe7,Qxe7,h3,f5,Bd3,Ndf6,Qc2,Qe8,Nd2,e5,f3,Ng3,Rfe1,e4,fxe4,fxe4,Be2,Qg6,Nf1,Bxh3,Bd1,Nxf1,Rxf1,Nh5,Bxh5,Rxf1+,Kxf1,Qxh5,gxh3,Qxh3+,Qg2', 'Rf8+,Kg1,Qxe3+', 'https://lichess.org/training/FOw4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fowpa', 'Blitz', 'ACSamson', 1576, 'tomas16055', 1587, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,b5,Bb3,Bb7,Re1,f6,c3,Na5,Bc2,d5,exd5,Nxd5,d4,Bd6,Bf4,Nc6,Bg3,O-O,Qd3,f5,Nxe5,Bxe5,Bxe5,Nxe5,Rxe5,Nf4,Qg3,g5,Bxf5', 'Rxf5,Rxf5,Ne2+,Kh1,Nxg3+', 'https://lichess.org/training/fowpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FOX9l', 'Rapid', 'ATZ28310', 1726, 'PhilCollins07', 1701, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,O-O,O-O,a6,Bg5,c5,Nf3,Nc6,Bxf6,Bxf6,Rb1,Qe7,Re1,Be6,Nd5,Bxd5,exd5,Ne5,Nxe5,dxe5,f4,Rfe8,fxe5,Bxe5,Kh1', 'Qh4,Rxe5,Rxe5', 'https://lichess.org/training/FOX9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FoxHa', 'Rapid', 'pistadruzganic', 1684, 'Jupp3', 1705, 'b4,d5,e3,e5,Bb2,Nc6,b5,Nb4,Bxe5,Bf5,d3,Bd6,a3,Bxe5,c3,Nxd3+,Bxd3,Bxd3,Qxd3,Qf6,Nf3,Ne7,O-O,O-O,a4,Bd6,Nbd2,Rad8,Nb3,c6,Rfe1,cxb5,axb5,Rc8,Rec1,Qh6,Rxa7,Bb4,Rxb7,Ba3,Ra1,Bb2,Ra2,Rxc3,Qe2,Rxb3,Rxe7,Bf6,Rea7,Be7,Rxe7,Rc8,h3,Rb1+,Ne1,Qd6,Rea7,g6,g3,Kg7,Kg2,d4,e4,Rcc1,Nd3,Rg1+,Kf3', 'Qf6+,Nf4,Rb3+,Qd3,Rxd3+', 'https://lichess.org/training/FoxHa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fOyY4', 'Rapid', 'KairuChege', 2067, 'zeron3', 1990, 'c4,e5,Nc3,Nf6,d3,Bb4,Bd2,O-O,g3,c6,Bg2,d5,cxd5,cxd5,Nf3,Nc6,O-O,Bg4,a3,Be7,b4,e4,dxe4,dxe4,Ng5,Qd4,Ngxe4,Rad8,Qc1,Nxe4,Nxe4,Bxe2,Re1,Bd3,Bc3,Qc4,Qb2,Nd4,Rac1,Bxe4,Rxe4,Bf6,Bxd4,Bxd4,Qb1,Qb5,Re7,Bxf2+,Kxf2,Qb6+,Kf1', 'Qf6+,Kg1,Qxe7', 'https://lichess.org/training/fOyY4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FoztB', 'Blitz', 'najafihamed', 2092, 'Nikita_Nameless', 1903, 'e4,b6,d4,Bb7,Bd3,e6,Qe2,c5,c3,Nc6,Nf3,cxd4,cxd4,Bb4+,Nc3,Nge7,O-O,O-O,a3,Bxc3,bxc3,f5,Bg5,h6,Bxe7,Nxe7,Ne5,fxe4,Bxe4,Bxe4,Qxe4,Nd5,c4,Nf6,Qe2,Rc8,f4,Re8,Rae1,d6,Ng6,Qc7,f5,exf5,Ne7+,Kh8,Qe6,Rxe7,Qxe7,Qxe7,Rxe7,Rxc4,Rxf5,Rxd4,Rxa7,Rd3,Rb5,d5,Rxb6,d4,a4,Rc3,Rd6,d3,h3,Ne4,Rd8+,Kh7,Rdd7,d2,Rxg7+,Kh8,Rgd7,Rc1+,Kh2,d1=Q', 'Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/FoztB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FOzvs', 'Blitz', 'najmabadi', 2027, 'Tour10', 2038, 'e4,c5,Nc3,d6,f3,Nf6,Bc4,e6,d3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,Nge2,Bd6,O-O,O-O,Nf4,Qc6,Re1,Nbd7,Qd2,Rfe8,b3,Rxe1+,Qxe1,Re8,Qh4,c4,Bd2,cxd3,Nxd3,Ne5,Re1,Nxd3,Rxe8+,Qxe8,cxd3,h6,Kf1,Qe5,d4,Qf5,Qe1,Bb4,Qe3,Qc2,Ke1,a5,g4,Kf8,h4,a4,bxa4,Bxc3,Qxc3,Qxa2,Qc8+,Ke7,Qc7+,Nd7', 'Bb4+,Ke6,Qd6#', 'https://lichess.org/training/FOzvs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fP1vT', 'Blitz', 'FM tontonflingueur', 2478, 'IM DMKey', 2460, 'd4,Nf6,c4,e6,Nf3,b6,Bf4,Bb7,e3,Be7,Nc3,O-O,Bd3,d5,O-O,Nbd7,cxd5,Nxd5,Nxd5,Bxd5,Rc1,c5,Bb1,cxd4,Nxd4,Bf6,Bg3,Rc8,Qd2,Qe7,b3,g6,Nb5,Ne5,e4,Bc6,Nc3,Rfd8,Qe2,Bb7,f4,Nc6,e5,Bg7,Qf2,Nb4,Bh4,f6,exf6,Bxf6,Bxf6,Qxf6,Ne4,Qd4,Rxc8,Bxc8,Ng5,Ba6,Qxd4,Rxd4,Re1,Bc8,g3,Rd2,a3,Nd5,Nf3,Rb2,b4,h6,Bxg6,Kg7,Be4,Nc3,Ne5,Ba6,Bf3,Rd2,h4,Ra2,g4,Rxa3,g5,Rb3,Rc1,Rb1,Rxb1,Nxb1,Ng4,Nd2,Kf2,hxg5,fxg5,Bc4,h5,a5,Ne5,Bb3,h6+,Kh7,Be2,Bc2,Ke3,Nb3,Bd3+,Bxd3,Kxd3,a4,Ke4', 'a3,g6+,Kxh6', 'https://lichess.org/training/fP1vT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FP2A0', 'Rapid', 'Timsar', 1643, 'denisotavio1914', 1683, 'Nf3,d5,d4,Nf6,c4,Bf5,Nc3,e6,e3,h6,h3,Bb4,a3,Bxc3+,bxc3,Ne4,Qb3,b6,cxd5,Qxd5,Bc4,Qa5,Ne5,Qxc3+,Qxc3,Nxc3,Bd2,Ne4,Bb5+,Kf8,Bb4+,c5,Rc1,cxb4', 'Rc8+,Ke7,Rxh8', 'https://lichess.org/training/FP2A0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fp3HW', 'Rapid', 'Sefegiru', 1918, 'txurdi', 1665, 'Nf3,Nf6,g3,g6,c3,Bg7,Bg2,Nc6,O-O,e5,d3,d5,Nbd2,Bg4,e4,dxe4,dxe4,Qd7,Qc2,Bh3,Nc4,Bxg2,Kxg2,Qg4,Re1,Nd7,Ne3,Qe6,Ng5,Qe7,Nd5,Qd8,Qb3,Na5', 'Nxc7+,Qxc7,Qxf7+', 'https://lichess.org/training/Fp3HW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fp3pP', 'Blitz', 'quatschkopp', 2417, 'FM fmewert', 2489, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,d3,g6,Nbd2,Bg7,O-O,d5,Qe2,e6,c4,Nf6,Rb1,O-O,b3,Nd7,a4,f5,Ba3,fxe4,dxe4,d4,Ne1,Qh4,Nd3,Rf7,f4,e5,fxe5,Nxe5,Nxe5,Bxe5,Rxf7,Qxh2+,Kf1,Kxf7,Bxc5,Bg3,Nf3,Qh1+,Ng1,Bh2,Qf2+,Ke6,Bxd4,Bd7,Bc5,Be5,Rd1,Re8,Ke2,Qh5+,Qf3,Bc8,Qxh5,gxh5,Nf3,Rg8,Nxe5,Kxe5,Ke3,Rxg2,Rd8,Bg4,Rd6,Re2+,Kd3,Rxe4,Rxc6,Re1,Rxa6,h4,Rh6,h3,Rxh7', 'Bf5+,Kd2,Bxh7', 'https://lichess.org/training/Fp3pP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FP3ur', 'Blitz', 'ajmetyko', 1621, 'ngmhun', 1632, 'd4,d5,Bf4,Nc6,e3,h6,Nf3,Nf6,Bd3,e6,Nbd2,Bb4,c3,Bd6,Bg3,O-O,Ne5,Nxe5,dxe5,Bxe5,Bxe5,c5,O-O,c4,Bc2,b5,f3,a5,e4,b4,cxb4,axb4,b3,c3,Nb1,Nd7,Bg3,Nc5,exd5,exd5,Qd4,Ne6,Qxb4,d4,Rd1,Ba6,Nxc3,d3,Bb1,Rb8,Qe4,Qb6+,Bf2,Qa5,Bxd3,Qxc3,Bxa6,Ra8,Bc4,Ng5,Qd4,Qa5,h4,Ne6,Qe4,Qc7,Bxe6,fxe6,Qxe6+,Kh8,Qg4,Rf4,Bg3,Rxg4,Bxc7,Rc8,Be5,Rc5,Bh2,Rc2,a4,Rcxg2+,Kf1,Rxh2,Rd8+,Kh7,Rad1,Rhxh4,a5,Rh3,a6,Rxf3+,Ke2,Rf7,R8d7', 'Re4+,Kd3,Rxd7+,Kxe4,Rxd1', 'https://lichess.org/training/FP3ur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fp4Hg', 'Blitz', 'Homo_Faberro', 1862, 'Tryfirst', 1953, 'd4,d5,Bf4,e6,Nf3,c5,e3,Nc6,c3,a6,Bd3,b6,O-O,Bd6,Ne5,Qc7,Qg4,g6,Qg3,Nf6,Nxg6,Bxf4,Nxf4,Bd7,Nd2,O-O-O,Qf3,Rdf8,Qe2,e5,Bxa6+,Kd8,dxe5,Nxe5,Rad1,Rhg8,e4,Rg4,Nxd5,Nxd5,exd5,Rfg8,g3,f6,Nf3,Qd6,Nxe5,fxe5,Rfe1,R4g5,Bb5,Bg4,f3,Bh3,Rd3,Qh6,Re3,Rxg3+,hxg3,Rxg3+,Kh2,Bf1+,Kxg3', 'Qh3+,Kf2,Qg2#', 'https://lichess.org/training/Fp4Hg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fp75X', 'Blitz', 'IM RL12', 2543, 'Farmville', 2564, 'e4,e5,d4,exd4,Qxd4,Nf6,Qe3,Bd6,Nc3,O-O,Bd2,Ng4,Qe2,Nxh2,e5,Nxf1,Kxf1,Re8,Qd3,Rxe5,Qxh7+,Kf8,Nf3,Nc6,Qh8+,Ke7,Qxg7,Qf8,Bg5+,Rxg5,Qxg5+,f6,Rh7+,Kd8,Qh5,Qe8,Rh8,Bf8,Qxe8+,Kxe8,Nd5,Kf7,Nxc7,Rb8,Re1,b6,Re8,Ba6+,Nxa6,Rxe8,Nc7,Rc8,Nd5,Ne7,Nxe7,Kxe7,c3,Rc5,Rh7+,Ke6,Nd4+,Kd6,Ke2,Be7,g4,Re5+,Kd3,Bd8,f4,Re1,a3,a6,b4,Rd1+,Kc4,Ra1,Kb3,Rg1,Nf5+,Kc7,Ne3,Rg3,Nd5+,Kc6,Kc4,Rxg4,Kd4,Bc7,Rf7,Bxf4,Rxf6+', 'Bd6+,Kd3,Kxd5', 'https://lichess.org/training/Fp75X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fp9RZ', 'Blitz', 'Yagune', 1859, 'GM JohanDerksen', 2599, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Be7,c4,O-O,O-O,Bf5,Re1,c6,Qb3,dxc4,Bxc4,b5,Bd3,Nd6,Bxf5,Nxf5,Nc3,Nxd4', 'Nxd4,Qxd4,Rxe7', 'https://lichess.org/training/fp9RZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPA9a', 'Rapid', 'joelleg', 1707, 'rohanrohanrohan', 1703, 'd4,c5,d5,Nf6,c4,e6,Nc3,d6,e4,Be7,Nf3,O-O,Bd3,e5,O-O,Nfd7,Be3,Nb6,Nd2,f5,f4,fxe4,Bxe4,exf4,Bxf4,Bg5,Bxg5,Rxf1+,Qxf1,Qxg5,Qe2,N8d7,Rf1,Ne5,Qf2,Bd7,b3,Ng4', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/fPA9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fpACE', 'Blitz', 'smoltree', 1542, 'dmval', 1644, 'e4,d6,Nf3,Nf6,Nc3,g6,Bb5+,c6,Ba4,Bg4,O-O,Bg7,Re1,e5,d3,h6,h3,Bxf3,Qxf3,O-O,a3,b5,Bb3,a5,Bd2,Nbd7,Ba2,Kh8,Rad1,b4,Ne2,Nc5,Ng3,Na4,Bc1,Re8,Bb3,Nc5,Ba2,Qc7,d4,exd4,Rxd4,d5,Rd2,Ncxe4,Rde2,Nxg3,fxg3,Ne4,Bf4,Be5,Bxh6,Bxg3,Rxe4,dxe4', 'Qf6+,Kh7,Qg7#', 'https://lichess.org/training/fpACE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPbIz', 'Rapid', 'mostafa1966', 1863, 'jabucilo', 1954, 'c4,e5,e3,Nf6,a3,d5,cxd5,Nxd5,Nc3,Nc6,Qc2,Be6,b3,Qd7,Bb2,f5,Nf3,Bd6,Ng5,O-O-O,Nb5,Nf6,Nxe6,Qxe6,g3,Ne4,Bg2,Qd5,Nxd6+,Rxd6,O-O,Qxd2,Qxd2,Nxd2,Rfd1,Nxb3,Rxd6,cxd6,Re1,Kd7,Rd1,Ke6', 'Bd5+,Kd7,Bxb3', 'https://lichess.org/training/fPbIz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPBJ0', 'Rapid', 'Rowell3210', 1965, 'niresh', 1957, 'e4,g6,d4,Bg7,Nc3,c6,Nf3,d6,Be3,Bg4,Qd2,Bxf3,gxf3,Qb6,O-O-O,Qc7,Bc4,b5,Bb3,a5,a4,b4,Ne2,Nd7,h4,h5,f4,c5,Bd5,Rc8,dxc5,Nxc5,Bxc5,Qxc5,Ng3,Nf6,Bb3,Ng4,Rhf1,Nh2,Rfe1,Nf3,Qd3,Nxe1,Rxe1,Qxf2,Rd1,Qxf4+,Kb1,O-O,Ne2,Qxh4,e5,Bxe5,Qxg6+,Kh8', 'Qh6+,Kg8,Rg1+', 'https://lichess.org/training/fPBJ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPDsm', 'Rapid', 'msantos10', 1943, 'MDouglas23', 1693, 'f4,Nc6,d4,d5,e3,Bf5,Nf3,h6,c4,e6,cxd5,exd5,Nc3,Nf6,a3,Ne4,Bd3,Nxc3,bxc3,Be4,O-O,Be7,Ne5,Nxe5,fxe5,O-O,Bxe4,dxe4,Qc2,f5,exf6,Bxf6,Qxe4,c6,a4,Qd6,Ba3,Rfe8,Qg6,Qe6,e4', 'Bxd4+,cxd4,Qxg6', 'https://lichess.org/training/fPDsm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FpEYI', 'Rapid', 'jayaram99', 1602, 'Curl_Swor', 1603, 'e4,c5,Nf3,e6,Bc4,Nc6,O-O,a6,d4,Nxd4,Nxd4,cxd4,Qxd4,Be7,Qxg7,Bf6,Qg3,b5,Bb3,Bb7,f3,Qb6+,Kh1,O-O-O,c3,Ne7,Qe1,Rhg8,Be3,Qc7,Nd2,Rg6,Qf2,Rdg8,Rg1,Bg5,Bxg5,Rxg5,Rac1', 'Qxh2+,Kxh2,Rh5+,Qh4,Rxh4#', 'https://lichess.org/training/FpEYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fpf5p', 'Rapid', 'jcfg1966', 1744, 'werneckt', 1716, 'c4,Nf6,g3,g6,Bg2,Bg7,Nf3,d6,O-O,Nbd7,d3,Rb8,Be3,c5,Nc3,O-O,Rb1,a6,b4,b5,cxb5,axb5,bxc5,Nxc5,Nxb5,Ba6,Nbd4,Nd5,Nc6,Nxe3,fxe3,Rxb1,Qxb1,Qc7,Ncd4,Rb8,Qc2,Qa5,Ng5,Nxd3,exd3,Qxg5,Re1,Rc8,Qb3,Bxd4,exd4,Qd2,Rxe7,Rc1+,Bf1,Bxd3', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/Fpf5p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPgTD', 'Rapid', 'adit07', 1971, 'Wonderboi', 1913, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Be2,O-O,O-O,Ne5,Nb5,Bxe3,fxe3,Qb6,Qd2,a6,Nd4,d6,Na3,N7c6,Nc4,Nxc4,Bxc4,Ne5,Be2,Be6,b3,c5,Nxe6,fxe6,Rad1,Rxf1+,Kxf1,Rf8+,Kg1,c4,Qxd6', 'Qxe3+,Kh1,Qxe2', 'https://lichess.org/training/fPgTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPgwN', 'Rapid', 'Smike', 1755, 'ZoroFTW', 1793, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,d4,Bxe2,Ngxe2,Qa5,Bd2,Nf6,O-O,e6,Ne4,Qb6,Nxf6+,gxf6,Bc3,h5,d5,Bh6,Bxf6,Rg8,dxe6,Qxe6,Bh4,Nc6,Nd4,Qg6,Re1+,Kf8,g3,Rd8,c3,Bg5,Bxg5,Qxg5,Qf3,h4,Nxc6,bxc6,Qxc6,hxg3,hxg3,Rh8,Qg2,Rd2,b3,Qc5,c4,Rh6,Red1,Qd4,Rxd2', 'Qxa1+,Qf1,Rh1+,Kxh1,Qxf1+', 'https://lichess.org/training/fPgwN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPGXI', 'Blitz', 'maryam1212', 1697, 'Serval123', 1638, 'e4,c5,Nf3,d6,d4,cxd4,Bb5+,Bd7,Bxd7+,Qxd7,Nxd4,Nc6,Be3,Nf6,Nc3,g6,O-O,Bg7,Nf3,O-O,Bg5,h6,Bxf6,Bxf6,Re1,Ne5,Nxe5,Bxe5,g3,f5,f4,Bxc3,bxc3,Qc6,Qd5+,Qxd5,exd5,Rfc8,Rxe7,Rxc3,Rxb7,Rxc2,Re1,Rac8,Ree7,Rc1+,Kg2,R8c2+,Kh3,Kf8,Rxa7,g5,Red7', 'g4+,Kh4,Rxh2#', 'https://lichess.org/training/fPGXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FPHNL', 'Blitz', 'Ausoa22', 2085, 'Rigozzaki', 2156, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,d4,d6,e3,Nc6,Nge2,a6,O-O,Rb8,a4,e5,h3,exd4,exd4,Re8,Be3,Bd7,Kh2,a5,Rc1,Nb4,b3,Bf5,Nf4,c6,Qd2,d5,Bf3,Ne4,Nxe4,Bxe4,Be2,Qf6,Ng2,Bxg2,Kxg2,Rbd8,Bf3,Qe6,c5,f5,Rfe1,Qf7,h4,Bf6,Rh1,h5,Rhe1,Bg7,Bd1,Re4,Bf3,Rde8,Bxe4,fxe4,Rf1,Nd3,Rc2,Qf3+,Kg1,Nb4,Rb2,Bf6,Qe2,Qf5,Kg2,Nd3,Rd2,Nb4,Bf4,Re7,f3,exf3+,Qxf3,Kg7,Rdf2,Nc2,Rd2,Nxd4,Qc3,Qe4+,Kh3,Ne2,Bh6+,Kxh6,Qxf6', 'Qg4+,Kg2,Qxg3+,Kh1,Qh3#', 'https://lichess.org/training/FPHNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FPhYV', 'Rapid', 'arupsaha', 1974, 'Turner231', 1983, 'd4,e6,e4,d5,e5,Nc6,c3,f6,f4,Nge7,Nf3,Ng6,Bd3,fxe5,fxe5,Be7,O-O,b6,Be3,a5,a4,Ba6,Bxa6,Rxa6,Qe2,Ra8,Qb5,Qd7,Ng5,h6,Nh3,Rf8,Nd2,Rf7,Rxf7,Kxf7,Rf1+,Kg8,Nf4,Nxf4,Rxf4,Rf8,Rxf8+,Bxf8,Nf3,Nb8,Qxd7,Nxd7,Nh4,Kh7,g4,Be7,Nf3,g5,Kg2,c6,Kg3,Kg6,h4,b5,h5+,Kh7,axb5,cxb5,Ne1,Nb6,Bc1,a4,Nd3,Nc4,Nc5,Bxc5,dxc5,Nxe5,Be3,Kg7', 'Bd4,Kf8,Bxe5', 'https://lichess.org/training/FPhYV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fpIdA', 'Rapid', 'yousef123321', 1635, 'P4blo987', 1604, 'Nf3,g6,c4,Nf6,Nc3,Bg7,b3,d6,Bb2,e5,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,e3,O-O,Bd3,Re8,O-O,Bb7,Qe2,c5,Qd2,Qd7,Qc2,a6,e4,Qg4,Rfe1,Nh5,f3,Qd7,Bc1,f5,Bb2,Nf4,g3,Nxd3,Qxd3,fxe4,fxe4,Qg4,Rab1,Re6,Nd5,Bxb2,Rxb2,Bxd5,Qxd5,Re8,Rbe2,Kg7,Kg2,h5', 'h3,Qf5,exf5,Rxe2+,Rxe2', 'https://lichess.org/training/fpIdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPkv9', 'Blitz', 'Sapiens65', 2058, 'blackfrancis', 2131, 'd4,d5,Nc3,e6,Bf4,a6,e3,c5,Be2,cxd4,exd4,Nc6,Nf3,Nf6,O-O,Qb6,Na4,Qb4,c3,Qa5,b4,Qd8,Nc5,b6,Nb3,Bb7,a4,Bd6,Qd2,O-O,Bxd6,Qxd6,a5,Ne4,Qe3,bxa5,Nxa5,Nxa5,Rxa5,Rac8,Rc1,Qc7,Bxa6,Bxa6,Rxa6,Qc4,Ra7,Qb3,Ne5,Rxc3,Rxc3', 'Qd1+,Qe1,Qxe1#', 'https://lichess.org/training/fPkv9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPl24', 'Classical', 't_bill', 1788, 'mrjaberi', 1828, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,O-O,d4,exd4,cxd4,Bb6,e5,Nh5,Bg5,Qe8,Nh4,g6,g4,Ng7,Be3,Ne6,Bh6,Bxd4,Nc3,Ng7,Qf3,Nxe5,Qf4,Bxc3,bxc3,Nxc4,Qxc4,Qe6,Qd4,f6,g5,d6,f4,Qg4+,Ng2,Nf5,Qd5+,Rf7,Rae1,Bd7,Qxb7,Rc8,Qxa7,c5,Qa6,Nh4', 'Qxc8+,Bxc8,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/fPl24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FpL7i', 'Bullet', 'arverno', 1606, 'future-trunks', 1608, 'd4,d5,e3,Nf6,Nf3,Bg4,Nc3,e6,Be2,Bb4,Bd2,O-O,h3,Bxf3,Bxf3,c5,a3,cxd4,axb4,dxc3,Bxc3,Nc6,O-O,Qb6,Qd2,Rac8,Bxf6,gxf6,Qd3,Nxb4,Qe2,Rxc2,Qd1,Rxb2,Bh5,Nc6,Qg4+,Kh8,Qf4,Ne7,Qxf6+,Kg8,Qxe7,d4,exd4,Qxd4,Rad1,Qe5,Bf3,Qg7,Bxb7,Kh8,Bf3,Rg8,Qxa7,Rb3,g3,Rxf3,Kg2', 'Rxg3+,fxg3,Qxg3+,Kh1,Qxh3#', 'https://lichess.org/training/FpL7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fpmdb', 'Rapid', 'ibrahimhaliltunay', 1635, 'llobo', 1603, 'e4,e5,Nc3,Nf6,Nf3,d6,Bb5+,c6,Ba4,Bg4,O-O,Be7,h3,Be6,a3,h6,d3,Bf8,Re1,h5,d4,Ng4,Bg5,Be7,Bxe7,Qxe7,hxg4,hxg4,Nh2,Qh4,Kf1,Qxh2,Qd2,g3,fxg3,Qh1+,Kf2,Qh6,Qe2,Qg5,dxe5,dxe5,Rad1,Bg4,Qd2,Qf6+,Kg1,Bxd1,Rxd1,Na6', 'Qd7+,Kf8,Qxb7', 'https://lichess.org/training/Fpmdb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPmUf', 'Rapid', 'harters68', 1950, 'SimplePlayer2008', 1893, 'd4,d5,Nf3,Nf6,e3,Bf5,c4,c6,Nc3,a6,Bd3,Bxd3,Qxd3,e6,cxd5,exd5,O-O,Bd6,a3,O-O,b4,Re8,Bb2,Nbd7,Na4,Ne4,Nc5,Ndxc5,dxc5,Bc7,Qd4,f6,Qd1,Qd7,Nd2,Rad8,Nxe4,Rxe4,Qf3,Bb8,Rad1,Qc7,g3,Rde8,Qg2,a5,Bd4,axb4,axb4,Qf7,Ra1,h5,Ra8,h4,f3,R4e7,gxh4', 'Bxh2+,Kxh2,Rxa8', 'https://lichess.org/training/fPmUf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPNi1', 'Rapid', 'Tiliber', 1681, 'Luisvil', 1629, 'e4,e5,f4,Nc6,Nf3,d6,Bb5,Bd7,O-O,Nd4,Bxd7+,Qxd7,Nxd4,exd4,d3,O-O-O,c4,g6,b4,f5,c5,fxe4,dxe4,Re8,Qxd4,Bg7,e5,dxe5,Qxd7+,Kxd7,Bb2,Kc6,Re1,Nh6,Bxe5,Bxe5,Rxe5,Ng4,Rxe8,Rxe8,Nd2,b6,cxb6,axb6,Nc4,Kb5,h3,Kxc4,hxg4,Kxb4,a3+,Ka4,Rc1,c5,Rc3,Re1+,Kf2,Ra1,Ke3,Rxa3', 'Rxa3+,Kxa3,f5,Kb3,f6', 'https://lichess.org/training/fPNi1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FPNnp', 'Blitz', 'khanivor', 1817, 'Mitchelsor90', 1894, 'd4,e6,c4,d5,Nf3,Nf6,Qc2,h6,a3,a6,Bf4,c6,Nc3,dxc4,e4,Nh5,Bxb8,Rxb8,Bxc4,b5,Bf1,Nf4,g3,Ng6,Rd1,Qb6,h4,Bb7,h5,Ne7,Rh4,Rd8,Bh3,Ng8,Rf4,Nf6,g4,c5,dxc5,Bxc5,Rxd8+,Qxd8,e5,Nd5,Nxd5,Qxd5,b4,Bb6,g5,hxg5,Nxg5,Qxe5+,Re4,Qxg5,Bxe6,Bxe4,Qc8+,Bd8', 'Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/FPNnp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fpNw8', 'Classical', 'Liberal-2021', 1995, 'MCC_LIKITAN', 1939, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,h4,c5,d5,Qa5,Bd3,d6,h5,Ng4,Bd2,Ne5,Be2,e6,f4,Ned7,dxe6,fxe6,hxg6,h6,f5,exf5,Bxh6,Bxc3+,bxc3,Qxc3+,Bd2', 'Qg3+,Kf1,fxe4+', 'https://lichess.org/training/fpNw8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPOQy', 'Rapid', 'NBThapa', 1982, 'Day-two', 1980, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,d6,Nc3,Nf6,Bc4,Be7,O-O,O-O,h3,c6,Be3,b5,Bb3,c5,Qd3,c4,Bxc4,bxc4,Qxc4,a5,Rad1,Ba6,Nb5,Nxe4,a4,Bxb5,Qxb5,Bg5,Qd3,Bxe3,Qxe3,Nc5,b3,Qf6,Qg3,Rad8,Qg4,Ne6,Rd3,Nf4,Rf3,Ne2+,Kh1,Qg6,Qc4,Rfe8,Qd5,Re5,Qb7,Nd4,Rg3,Rg5,Qc7,Ne6,Qb7,Qxc2,Rf3,Qg6,Re1,Rxg2,Qb6,Rg5,Qxd8+,Nf8,Rc3,Qf5,Qa8,Qxf2', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/fPOQy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fpOyv', 'Blitz', 'Debyt2019', 2139, 'Orquiza', 2205, 'Nf3,Nf6,d4,d5,c4,e6,Nc3,Be7,Bg5,O-O,Qc2,b6,e3,Bb7,O-O-O,Nbd7,cxd5,Nxd5,Bxe7,Qxe7,Kb1,Nb4,Qd2,c5,a3,Nd5,Bc4,Nxc3+,Qxc3,cxd4,Qxd4,Nc5,Qd6,Be4+,Ka2,Qf6,Qg3,Rad8,Ne5,Bc2,Rxd8,Rxd8,Rc1,Rd2,Nf3', 'Bb3+,Ka1,Qxb2#', 'https://lichess.org/training/fpOyv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPPLv', 'Rapid', 'YAHYAAAAB', 2094, 'luisfonsilangit', 2149, 'b3,Nf6,Bb2,d6,e3,e5,Nf3,Be7,d4,exd4,Qxd4,O-O,Nc3,Nc6,Qf4,h6,Bd3,Re8,h4,Nh5,Qa4,Bd7,Qb5,Nf6,Qxb7,Bf8,O-O-O,Ng4,Rhf1,a5,Qb5,Nce5,Qd5,c6,Qe4,f5,Qd4,c5,Qf4,Ng6,Qc4+,Be6,Qa4,N6e5,Nxe5,Nxe5,f4,Ng4,Rfe1,Qxh4,g3,Qxg3,Ne2,Qxe3+,Kb1,Qf3,Bc4,Bxc4,Qxc4+,Kh8,Nc3,Nf6,Qf7,Qc6,Rxe8,Qxe8,Qc4,Ne4,Rg1,Nxc3+,Qxc3,Qe7,Qf3,Re8,Qh5,Qe3', 'Qxh6+,Kg8,Rxg7+,Bxg7,Qxg7#', 'https://lichess.org/training/fPPLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fpq5C', 'Rapid', 'Kleopatra2019', 1819, 'Raihani', 1788, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,c5,c3,a6,Ba4,d3,Qf3,Qf6,Qxd3,b5,Bc2,Bb7,Qe3,Nh6,d4,O-O-O,dxc5,Re8,Nd2,Ng4,Qg3,h5,h3,Ne5,f4,Bxc5+,Kh1,Nc4,e5,Qe6,Ne4,Be7,Be3,h4,Qf2,f6,b3,Na5,Bb6,Nc6,exf6,gxf6,Rfe1,Qf7,Rad1,f5,Nd6+,Bxd6,Rxd6,Rxe1+,Qxe1,Nd8,Qe5,Rg8,Rg6,Ne6,Rxg8+', 'Qxg8,Qe2,Nxf4', 'https://lichess.org/training/Fpq5C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fprMj', 'Rapid', 'gandalf2020', 1771, 'orhok', 1717, 'e4,e5,Nf3,Qf6,Be2,h6,b3,Bc5,Bb2,d6,d4,exd4,Bxd4,Bxd4,Nxd4,c5,Nb5,Qxa1,Nc7+,Kf8', 'Qxd6+,Ne7,Qd8#', 'https://lichess.org/training/fprMj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPUmN', 'Rapid', 'aschur2121', 1721, 'teixei', 1721, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Bc4,Be7,Nxc6,bxc6,Qd4,Nf6,O-O,O-O,Nc3,Bb7,Bf4,c5,Qd3,Re8,Rad1,g6,Nd5,Nxd5,Bxd5,c6,Bb3,a5,Bxd6,Ba6,Bc4', 'Bxc4,Qxc4,Bxd6', 'https://lichess.org/training/fPUmN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fpVMs', 'Classical', 'MueveteChile', 1744, 'BGSangma', 1831, 'd4,Nf6,Nc3,d5,Bf4,c6,e3,Nbd7,Bd3,e6,Qd2,a5,Nf3,b5,Bxb5,cxb5,Nxb5,Qb6', 'Nc7+,Qxc7,Bxc7', 'https://lichess.org/training/fpVMs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FPwdZ', 'Rapid', 'nbgdblokovi', 1977, 'Vicent54', 2007, 'e4,e6,b3,d5,Bb2,dxe4,Nc3,Nf6,Qe2,Be7,Nxe4,O-O,Nf3,b6,O-O-O,Ba6,d3,Nbd7,h4,c5,h5,h6,g4,Nxg4,Rg1,Ngf6,Ne5,Nxe5,Nxf6+,Bxf6,Bxe5,Bg5+,f4,Bf6,Bh3,c4,dxc4,Qe7,Kb1,Rad8,Rdf1,Kh8,Rg3,Bb7,Rfg1,Rg8,Bg2,Bxe5,fxe5,a5,Qe3,Kh7,Qc1,a4,c3,axb3,axb3,Bxg2,R1xg2,Qc5,Qc2+,Kh8,Qe4,Ra8,Rxg7,Rxg7,Qxa8+,Kh7,Qe4+,Kh8,Rd2,Rg1+,Kb2,Qa5,Rd8+,Kg7,Ra8,Qc5,Qe2,Qe7,Qf2,Rg5,Qe2', 'Qb7,Ra2,Rg2,Qxg2+,Qxg2+', 'https://lichess.org/training/FPwdZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fPWWP', 'Classical', 'kencoder', 1773, 'Amagerstangen', 1710, 'e4,d6,d4,g6,Nf3,Bg7,Nc3,Nf6,d5,O-O,b3,Re8,Qd3,e6,dxe6,Bxe6,Bg5,Na6,O-O-O,Nc5,Qb5,Qc8,Bd3,a6,Qa5,b6,Qb4,a5,Qb5,Nxd3+,Rxd3,Qb7,e5,Bd7,Qc4,Be6,Nd5,Bxd5,Rxd5,Nxd5,exd6,cxd6,Rd1,Rac8,Qxd5,Rc6,Nd4,Rxc2+,Nxc2,Qc7,Qxd6,Qc3,Qd7,Qb2+,Kd2,Qc3+,Kc1,Qb2+,Kd2,Qc3+,Kc1,Re2,Qd8+,Bf8,Qd3', 'Ba3+,Kb1,Qb2#', 'https://lichess.org/training/fPWWP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fpxia', 'Rapid', 'JPerri23', 1909, 'jamesting', 1962, 'e4,e6,f4,d5,exd5,exd5,Nf3,Bc5,d4,Bb6,Bd3,c5,O-O,cxd4,Kh1,Bg4,Re1+,Ne7,Bb5+,Nc6,Qd3,Bxf3,Qxf3,O-O,c4,dxc4,Bxc4,Qc7,a4,a5,Bd2,Ng6,Na3,Nb4,Bb3,Rfe8,Nb5,Rxe1+,Rxe1,Qd7,f5,Nh4,Qg4,Nxf5,Rf1,g6,Qg5,Bd8,Qg4,Bf6,Qf4,Nd5', 'Bxd5,Qxd5,Nc7', 'https://lichess.org/training/Fpxia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fpxig', 'Rapid', 'shahjahanBD', 1900, 'drum_and_bass101', 1889, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bd3,Bxd3,Qxd3,Ngf6,O-O,e6,h3,Bd6,Bg5,h6,Bxf6,Nxf6,Ne4,Nxe4,Qxe4,Qf6,c3,g5,Nh2,h5,Rad1,O-O-O,g3,Qh6,Rfe1,Rde8,Kg2,f5,Qf3,g4,Qe3,f4,Qd2,gxh3+,Kxh3,h4,g4,Qg6,f3,Re7,Re4,Rf8,Rde1,Rfe8,Qd3,e5,d5,cxd5', 'Rc4+,dxc4,Qxg6', 'https://lichess.org/training/fpxig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FpXwm', 'Classical', 'Homself', 1663, 'blues_banan', 1700, 'd4,d5,Nc3,c6,h3,Nf6,Bf4,e6,Nf3,Bd6,Ne5,Ne4,Nxe4,dxe4,e3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/FpXwm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FPyXS', 'Rapid', 'Marcelo41', 1893, 'KAHABER', 2164, 'd4,c5,c3,cxd4,cxd4,Nf6,g3,g6,Bg2,Bg7,e4,d6,Ne2,Nc6,Nbc3,O-O,O-O,Rb8,b3,a6,Bb2,Qc7,Rc1,b5,a3,Bb7,Nd5,Qd7,Nb6,Qd8,Nd5,Nxd5,exd5,Na7,Re1,Nc8,Qc2,Nb6,Nf4,Rc8,Qe2,Rxc1,Rxc1,g5,Nh5,Bxd5,Bxd5,Nxd5,Qg4,e6,Nxg7,Kxg7,h4,h6,f4,Nf6,Qf3,d5,fxg5,hxg5,hxg5,Ne4,Kg2,Qxg5,Rc2,Rg8,Bc1,Qg6,Bf4,f6,Rc7+,Kh8,Kf1,Qf5', 'Qh1+,Qh7,Rxh7#', 'https://lichess.org/training/FPyXS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fpz0H', 'Rapid', 'biskerem', 1870, 'sobatambyar1989', 1789, 'Nc3,e5,e4,Bc5,f4,exf4,Nf3,a6,d4,Bb4,Bxf4,Nf6,Bd3,d6,h3,Be6,a3,Ba5,O-O,Nc6,d5,Bxh3,gxh3,Bb6+,Kh2,Ne7,Qe2,Ng6,Be3,O-O,Bxb6,cxb6,Qf2,Nh5,Ne2,Qd7,Qxb6,Rac8,Qe3,Qe7,Nfd4,Qe5+,Kg2,Nh4+,Kf2', 'Qh2+,Ke1,Ng2+,Kd2,Nxe3', 'https://lichess.org/training/Fpz0H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FPZm1', 'Rapid', 'FreezingMoon00', 1630, 'Andre_fonseca28', 1735, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nf3,a6,a3,d5,exd5,exd5,Nc3,Bg4,h3,Bxf3,Qxf3,Nf6,Be3,Be7,O-O-O,O-O,g4,Ne4,Nxe4,dxe4,Qxe4,Rc8,Kb1,Na5,Bd3,g6,Bh6,Re8,Qf4,Bxa3,Rc1,Bd6', 'Rxc8,Bxf4,Rxd8,Rxd8,Bxf4', 'https://lichess.org/training/FPZm1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fq08w', 'Rapid', 'hamsterfeca', 1698, 'Irfan91', 1760, 'e4,f5,d3,d6,Nc3,Nf6,Bg5,e5,Be2,Be7,Bxf6,Bxf6,Bf3,O-O,exf5,Nc6,Bxc6,bxc6,Qf3,Bb7,Nge2,Rb8,Ng3,c5,Nd5,Bg5,O-O,Bf4,c4,Bxg3,Qxg3,Bxd5,cxd5,Rxb2,Qf3,Qg5,Rfb1,Rxb1+,Rxb1,a5,g4,h6,Rb7,Qd8,Ra7,Qb8,Rxa5,Qb4,Ra7,Qb6,Ra3,Kh7,Kg2,Qb2,d4,Qxd4,Rd3', 'e4,Rxd4,exf3+,Kxf3,cxd4', 'https://lichess.org/training/Fq08w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fq1Ro', 'Rapid', 'idahirUAEM', 1854, 'AdilsonAndrade', 1803, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,Nc6,h3,O-O,Bg5,Be7,Nc3,Nd4,Nxe5,d6,Bxf6,Bxf6,Nf3,Nxf3+,Qxf3,Bxc3+,bxc3,c6,O-O,Kh8,Rae1,f5,d4,fxe4,Qxe4,d5,Bxd5,cxd5,Qe5,Bd7,Re3,Re8,Qxd5,Rxe3,fxe3,Bxh3', 'Qxd8+,Rxd8,gxh3', 'https://lichess.org/training/Fq1Ro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fQ2gN', 'Rapid', 'ArchieBunker420', 1983, 'quaz', 1998, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,c3,Nf6,Bd3,Bg4,O-O,Be7,Nbd2,O-O,Re1,Re8,Nf1,Bh5,Ng3,Bg6,Nf5,Ne4,Nxe7+,Rxe7,Be3,a6,a4,Qd7,Qc2,Rae8,b4,Nd6,Bxg6,hxg6,Nd2,Nf5,Qd3,Nxe3,Rxe3,Rxe3,fxe3,Ne7,e4,dxe4,Nxe4,Nd5,Nc5,Qg4,Qf3,Qxf3,gxf3,Nxc3,Nxb7,Ne2+,Kf2,Nxd4,Rd1,Nc2,Rd3,Nxb4,Rd7,Rc8,Nd8,c5,Nxf7,c4,Nd6,Rc6,Rd8+,Kh7,Nf7,g5', 'Rh8+,Kg6,Ne5+,Kf5,Nxc6', 'https://lichess.org/training/fQ2gN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fq2q0', 'Rapid', 'Nodiko', 2460, 'Kinzya1', 2178, 'd4,c5,d5,Nf6,c4,d6,Nc3,g6,e4,Bg7,Nge2,O-O,Ng3,e6,Be2,h5,Bg5,exd5,cxd5,a6,a4,Nbd7,O-O,Qc7,Qc2,Re8,Rfe1,Nh7,Bf4,Ne5,Nf1,h4,Nd2,g5,Be3,Ng4,Bxg4,Bxg4,Nc4,Qe7,f3,Bd7,Nb6,Rad8,a5,Nf8,Qd2,f6,Rab1,Ng6,b4,cxb4,Rxb4,Ne5,Rc1,h3,Bd4,hxg2,Bxe5,fxe5,Qxg2,Rf8,Nxd7,Qxd7,Na4,Rf4,Nb6,Qf7,Rc3,Rf8,Rbc4,g4,Rc7,Qh5,h3,Qg5,hxg4,R4f7,Rxf7,Rxf7,Rc8+,Bf8,Qe2,Qf4,Nc4,Rh7,Ne3,Qg3+,Ng2,Rf7,Qf2,Qh3,Ne1,Rh7,Qg2,Qh4,Kf1,Qg5,Ke2,Qf4,Qf2,Kf7,Ng2,Qg5,Ne3,Qf4,Ng2,Qh2,Ne3,Qh1,Ng2,Be7,Rc7,Rh8,Ne3,Rh2,Nf5,Rxf2+,Kxf2,Qh2+,Kf1,Qa2,Rxe7+,Kf6,Rxb7,Qxa5,Rd7', 'Qb5+,Kg2,Qxd7', 'https://lichess.org/training/Fq2q0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fq3qY', 'Rapid', 'DerKleine', 2106, 'darkmist13', 1616, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,e6,Nf3,Bb4,Bd3,c5,Be3,Qa5,Qd2,Nc6,dxc5,Bxc5,O-O,O-O,a3,Bxe3,Qxe3,Qc7,Rac1,Ng4,Qe2', 'Nd4,g3,Nxe2+', 'https://lichess.org/training/Fq3qY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fq40I', 'Rapid', 'supersebi7', 1670, 'mrmanish1', 1657, 'e4,e5,f4,exf4,Nf3,d6,d4,Bg4,Bxf4,Bxf3,Qxf3,Nc6,c3,a6,Nd2,Qh4+,g3,Qe7,Bc4,Na5,Bd3,h6,O-O-O,Qd7,Rhe1,O-O-O,h4,Be7,d5,g5,hxg5,hxg5,Be3,Qa4,Qxf7,Qxa2,Kc2,Qa4+,Kc1,Nb3+,Nxb3,Qxb3,Qf5+,Kb8,Bxg5,Rf8,Qg4,Rf2,Re2,Bxg5+,Qxg5,Rxe2,Bxe2,Ka7,Qe3+,b6,g4,Rh2,g5,a5,Qd2,a4,Qc2', 'Qxc2+,Kxc2,Rxe2+', 'https://lichess.org/training/fq40I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQ4aG', 'Blitz', 'Raana96', 2296, 'Navi_Edward', 2498, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Be2,Nf6,e5,Qa5+,Bd2,Qxe5,Bc3,Qc7,O-O,Be7,Nd2,O-O,Nf3,Ne4,Be5,d6,Bf4,e5,Be3,d5,c4,d4,Bc1,Nc5,Re1,a5,Qc2,f5,Bf1,d3,Bxd3,Nxd3,Qxd3,e4,Qe3,Bf6,Nd2,Be6,Rb1,Rfd8,b3,Rd3,Qe2,Bc3,f3,Qd7,fxe4,Bxd2,exf5,Bxe1,fxe6,Qd4+,Kh1,Rd1,Bb2,Rxb1,Bxd4', 'Bf2+,Qd1,Rxd1#', 'https://lichess.org/training/FQ4aG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fq4Lm', 'Rapid', 'fabios', 2164, 'bbeltkyle89', 2054, 'd4,d6,Nf3,g6,Bg5,h6,Bh4,g5,Bg3,Bg7,e3,f5,h3,Nf6,c3,O-O,Bd3,Ne4,Bh2,e5,O-O,Nc6,Nbd2,Nxd2,Nxd2,Ne7,dxe5,dxe5,Qc2,b6,Nc4,Bb7,Be2,Qd5,f3,f4,Nd2,Nf5', 'Bc4,Nxe3,Bxd5+', 'https://lichess.org/training/Fq4Lm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fq5ip', 'Blitz', 'Leopoldo1957', 2056, 'Phaneesh_Katti', 1978, 'e4,c5,c3,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Bd6,O-O,cxd4,Nxd4,O-O,Bg5,Nc6,Nxc6,bxc6,Nd2,Rb8,Nb3,h6,Bh4,g5,Bg3,Ne4,Bxd6,Qxd6,Bd3,Bf5,Nd4,Bg6,b4,Nxc3,Qc2,Nb5,Nxb5,Rxb5,Bxg6,Qxg6,Qxg6+,fxg6,a3,Kg7,Rac1,Rf6,Rfe1,Rb7,f3,Rd6,Kf2,Kf7,Ke3,a5,bxa5,Rb3+,Kd4,Rf6,Kc5,Rb5+,Kd4,Rxa5,Rc3,Rf4+,Ke5,Ke7,Rxc6', 'd4+,Rc5,Rxc5#', 'https://lichess.org/training/fq5ip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fq5LT', 'Rapid', 'Iplaygambit', 2111, 'jaybird', 2018, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bd3,Bd6,Bg5,c6,Qd2,O-O,O-O-O,Nbd7,Nf3,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/Fq5LT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQ5yp', 'Rapid', 'DerZorlord2', 1782, 'Kaskniit', 1754, 'f4,b6,Nf3,Bb7,e3,Nc6,b3,e6,Bb2,Nf6,Bb5,g6,Bxc6,dxc6,O-O,c5,c4,Bg7,d3,O-O,Qe2,Qd7,Nbd2,Rad8,Ne5,Qd6,Rad1,Nd7,Ne4,Qe7,Nxd7,Rxd7,Bxg7,Kxg7,Rf3,Rfd8,Rff1,f5,Ng5,h6,Nf3,Bxf3,Rxf3,Qf6,e4,Qd4+,Kh1,fxe4,Rg3,a5,a4,c6,h3,Kf7,Qg4,Qf6,Qe2,Qxf4', 'Rf1,Qxf1+,Qxf1+', 'https://lichess.org/training/FQ5yp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQ6kb', 'Rapid', 'Jorgegue', 1846, 'tekawe56', 1902, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,c3,Nf6,Bg5,Ne5,cxd4,Nxc4,Qa4+,Qd7,Qxc4,Nxe4,O-O,d5,Qb3,Nxg5,Nxg5,Be7,Nf3,O-O,Nc3,c6,Rfe1,Qc7,Rac1,Be6,h3,a6,Qc2,Qf4,Ne2,Qf6,Ng3,Bd6,Ne5,Rad8,Qd2,Qe7,Nh5,g6,Nf4,Bb4,Qe3,Bxe1,Rxe1,Qf6,Nxe6,fxe6,Ng4,Qe7,Qe5,Qg7,Qxe6+,Kh8,Ne5,Rde8,Qg4,Re7,Qh4,Kg8,Qg5,Qf6,Qg3,Kg7,Kh2,Qf5,f3,Rf6', 'Nxg6,hxg6,Rxe7+', 'https://lichess.org/training/FQ6kb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fq7mA', 'Classical', 'souheel_twaish', 1640, 'nor2009', 1875, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Be3,Qb6,b3,cxd4,Bxd4,Nxd4,Qxd4,Bc5,Qh4,Ne7,Bd3,Bd7,O-O,O-O-O,Nc3,Ng6,Bxg6,hxg6,Qg3,Qc7,a4,a6,Rab1,Bxf2+,Qxf2,Qxc3,Qa7,f6,b4,Bxa4,Ra1,Bb5,Rfd1,fxe5,Qb6,Rde8,Qd6,Qe3+,Kh1,e4,Nd4,e5,Nxb5', 'Rxh2+,Kxh2,Rh8#', 'https://lichess.org/training/fq7mA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQ9EY', 'Classical', 'bphisher', 1939, 'honeypops21', 1991, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Bxc6,dxc6,Nxe5,Be7,Re1,Qd4,Rxe4,Qxe4,d4,Bf5,c3,f6,Nc4,Qd3,Nbd2,Bg6,b3,b5,Na5,Qxc3,Nxc6,Qxa1,Nxe7,Kxe7', 'Ba3+,Kf7,Qxa1', 'https://lichess.org/training/FQ9EY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQ9OS', 'Blitz', 'alperenn_1903', 2005, 'SjakkNissen', 2148, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Bg4,O-O,Ne7,Bg5,f6,Bh4,Nbc6,c3,Qd7,Nbd2,O-O-O,b4,Ng6,Bg3,Nf4,Bxf4,Bxf4,Be2,Rde8,Re1,Kb8,a4,h5,a5,Re7,b5,Nd8,b6,a6,bxc7+,Qxc7,h3,g5,Nb3,Rhe8,Nc5,Ka7,Kf1,Qc6,hxg4,hxg4,Ng1,f5,Qd3,Bc7,Qxf5,Nf7,Bxg4,Rxe1+,Rxe1,Rxe1+,Kxe1,Nd6,Qxg5,Nc4,Bd7,Qd6,Nf3,Bxa5,Qg3,Bxc3+,Kd1,Qh6,Qg5,Qh1+,Kc2,Bb4,Qxd5,Na3+,Kb3', 'Qb1+,Ka4,b5+,Bxb5,axb5#', 'https://lichess.org/training/FQ9OS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQ9Vm', 'Rapid', 'hoomaan2011', 1665, 'master_cz', 1632, 'd4,d5,Nf3,Nc6,Nc3,Bg4,Bf4,Bxf3,exf3,a6,Qd2,e6,O-O-O,Bb4,Bd3,Nf6,Bg5,h6,Bxf6,Qxf6,Qe3,Bxc3,bxc3,O-O,c4,Qxd4', 'Bh7+,Kxh7,Rxd4', 'https://lichess.org/training/FQ9Vm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fqbs4', 'Rapid', 'teioh', 1908, 'AlekseyPanasyuk', 1906, 'e4,e5,Nf3,Nc6,c3,Nf6,Qa4,Bc5,d4,exd4,cxd4,Bb4+,Bd2,Qe7,e5,Ne4,a3,Bxd2+,Nbxd2,Nxd2,Kxd2,O-O,Bb5,f6,Rhe1,fxe5,Rxe5,Nxe5,Nxe5,Rxf2+,Kc3,d6,Nd3,Rxg2,Re1,Re2,Qc4+,Kh8,Ne5,Rxe1,Nf7+,Kg8', 'Nh6+,Kf8,Qg8#', 'https://lichess.org/training/fqbs4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fqBXK', 'Classical', 'patzerforhire', 2029, 'Zenit78', 2018, 'e4,c6,d4,d5,e5,Bf5,h4,h6,g4,Be4,Nf3,e6,Nc3,Bb4,Rh3,Qb6,a3,Bxc3+,bxc3,c5,Nd2,Bh7,Rb1,Qc7,c4,Ne7,f4,cxd4,Nf3,Nbc6,Nxd4,O-O,Nb5,Qd8,Nd6,b6,g5,Nf5,gxh6,Nxd6,exd6,Qxd6,Qg4,g6,h5,Nd4,Bd3,dxc4', 'hxg6,fxg6,Bxg6,Kh8,Bxh7', 'https://lichess.org/training/fqBXK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fqC1g', 'Rapid', 'selva41', 1749, 'bibirevsky', 1639, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,h3,h6,d3,Nge7,a3,Ng6,Na4,Nf4,Bxf4,exf4,Nxc5,dxc5,Qd2,Qf6,O-O-O,O-O,Rde1,Re8,h4,Be6,Bxe6,Rxe6,Reg1,b5,g4,fxg3,Rxg3,b4,a4,b3,Rhg1,bxc2,Rxg7+,Qxg7,Rxg7+,Kxg7,Qc3+,Kh7,Qxc5,Rg8,Kxc2,Rg2,Kd2,a5,Qf5+,Kg8,Ke2,Ne7,Qxa5,Ng6,Qd2,Kg7,Kf1,Rg4,Nh2,Rxh4,f3,Rf6,Kg2,Nf4+,Kg3', 'Rh3+,Kf2,Rxh2+', 'https://lichess.org/training/fqC1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FqCLj', 'Classical', 'New_Topolino', 1956, 'marcustanjl', 1944, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Nxd5,Bb7,Nxf6+,Bxf6,Qxd8+,Rxd8,O-O,O-O,c3,a5,Bf4,Rfe8,Rfe1,c5,f3,h6,Kf1,Bh4,Rxe8+,Rxe8,g3,Bf6,Bd6,Bxf3,Bxc5', 'Rc8,Be2,Bxe2+,Kxe2,Rxc5', 'https://lichess.org/training/FqCLj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQCZD', 'Classical', 'RanjitE', 1825, 'senolut', 1720, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,O-O,Be2,Nbd7,O-O,c5,d5,e6,dxe6,fxe6,Qxd6,Nb6,Qxc5,Ng4,Ng5', 'Bd4+,Qxd4,Qxd4+', 'https://lichess.org/training/FQCZD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FqDBL', 'Rapid', 'THFC82', 1738, 'fredpei', 1962, 'c4,Nf6,g3,d6,Bg2,e5,e4,Be7,Ne2,Nc6,Nbc3,O-O,O-O,Be6,d3,h6,f4,exf4,gxf4,Bg4,h3,Bxe2,Nxe2,Nh7,f5,Bg5,a3,Bxc1,Rxc1,Qg5,Qe1,Qe3+,Kh1,Qxd3,Rc3,Qxc3,Qxc3,Ne5,Nd4,c6,Nf3,Rfe8,Nxe5,dxe5,h4,Rad8,Bf3,Nf6,Qc2,Rd4,Rd1,Red8,Rxd4,Rxd4,b4,Nd7,c5,a6,Kg2,Nf6,Kg3,Ne8,Qc3,Nf6,a4,Rxe4,Qb3,Rd4,b5,axb5,axb5,e4,Be2,Rd2,bxc6,bxc6,Qe3,Rd5,Kf4,g6,fxg6,fxg6,Bc4,Kg7,Qc3', 'Rf5+,Ke3,Rf3+,Kd2,Rxc3', 'https://lichess.org/training/FqDBL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fqEd0', 'Blitz', 'ahmedfathi123', 1782, 'Kikaja', 1980, 'd4,c5,d5,e5,c4,d6,e4,Be7,Nf3,Bg4,Be2,Bxf3,Bxf3,Bg5,Bxg5,Qxg5,Nc3,a6,Na4,b5,cxb5,axb5,Nc3,b4,Nb5,Qd8,a3,bxa3,Rxa3,Rxa3,bxa3,Qa5+,Qd2,Qxb5,Be2,Qb1+,Bd1,Qxe4+,Be2,Qb1+,Bd1,Qb6,Ba4+,Nd7,O-O,Nf6,f4,O-O,fxe5,dxe5,Qg5,c4+,Kh1,Ra8,Bc6,Rxa3,Bxd7,Nxd7,Qe7,Qf2,Rb1,Rb3,Ra1,Nf8,h3,Qg3,d6,Rb2', 'Qxf8+,Kxf8,Ra8+,Rb8,Rxb8#', 'https://lichess.org/training/fqEd0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FqfdT', 'Rapid', 'Valeriy54', 1847, 'Ksenia86', 1648, 'e4,c6,f4,d5,e5,Bf5,h3,e6,Nf3,c5,Bb5+,Nd7,O-O,Ne7,Bxd7+,Qxd7,d3,Ng6,g4,Bxg4,hxg4,Be7,Be3,O-O,Kg2,b6,Rh1,f6,Rh5,fxe5,Nxe5,Nxe5,fxe5,Qc6,Kg3,d4,Bg5,Bxg5,Rxg5,Rf7,Nd2,Raf8,Qe2,Rf2,Qe4,Qxe4,Nxe4', 'R8f3+,Kh4,Rh2#', 'https://lichess.org/training/FqfdT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fqgvP', 'Rapid', 'ffrancaa28', 1867, 'hemant43', 1829, 'e4,g6,d4,Bg7,c4,d6,Nc3,Nf6,Nf3,O-O,Be2,c5,d5,e6,O-O,exd5,exd5,Na6,Rb1,b6,a3,Nc7,b4,Bf5,Bd3,Bxd3,Qxd3,cxb4,axb4,Re8,Bg5,h6,Bh4,g5,Bg3,Nh5,Ne4,Nxg3,Nxg3,Qf6,Nh5,Qc3,Qf5,Qxc4,Nxg7,Kxg7,Rbc1,Qxd5,Qd7,Ne6,Rcd1,Qf5,Qxd6,Rad8,Qc6,Rxd1,Rxd1,Re7,g3,Rc7,Nd4,Qf6', 'Nxe6+,Qxe6,Qxc7', 'https://lichess.org/training/fqgvP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fqHzB', 'Rapid', 'Messah', 1860, 'BeerP', 1965, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,e6,Nf3,Nc6,Be3,Be7,h3,O-O,a3,a6,Bd3,b5,b4,Bb7,Qc2,h6,O-O,Qd7,Rad1,Rac8,e5,dxe5,dxe5,Nd5,Be4,Nxe3,Rxd7,Nxc2,Rxb7,Rfe8,Bxc2,Nd8,Ra7,Rxc3,Rc1,Rxa3,Nd4,Bxb4,Be4,Bd2,Rc8,Rc3,Nc6,Rc1+,Kh2,Bf4+,g3,Bxe5,Re7,Kf8', 'Rxe8+,Kxe8,Rxd8#', 'https://lichess.org/training/fqHzB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQKjc', 'Rapid', 'Diogomac', 1810, 'Gyisus', 1738, 'd4,d5,c4,dxc4,Nc3,e6,Nf3,Nc6,e4,Bb4,Bxc4,Nf6,Bg5,h6,Bxf6,Qxf6,e5,Qg6,O-O,O-O,d5,Ne7,dxe6,Bxe6,Bxe6,fxe6,Qb3,Bxc3,Qxc3,Nd5,Qb3,Nf4,g3,Nh3+,Kg2,Nf4+,Kg1,Ne2+,Kg2,Qe4,Rae1,Nf4+,Kg1,Qxf3', 'Qxf3,Nh3+,Kg2,Rxf3,Kxf3', 'https://lichess.org/training/FQKjc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQloH', 'Blitz', 'Ad_Andrej', 1862, 'smoothchess1', 1907, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,c6,Qf3,e6,d3,Bb4,Bd2,O-O,Nxd5,Bxd2+,Kxd2,cxd5,Bb3,Nc6,h4,Nd4,Qe3,Qb6,g4,Bd7,h5,Rac8,c3,Nxb3+,axb3,Qxb3,Rb1,Bc6,d4,a5,h6,g6', 'Qe5,f6,Qxe6+,Rf7,Qxc8+', 'https://lichess.org/training/FQloH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fqlr6', 'Rapid', 'avidmate', 1744, 'zambesi', 1712, 'Nf3,Nf6,c4,g6,Nc3,d5,d4,Bg7,e3,O-O,Be2,c6,O-O,Nbd7,Bd2,dxc4,Bxc4,Nb6,Bb3,Nfd5,e4,Nxc3,bxc3,Bg4,h3,Bxf3,Qxf3,e5,d5,cxd5,exd5,Rc8,Rac1,Nc4,Be3,Nxe3,fxe3,Qd6,e4,b5,c4,bxc4,Rxc4', 'Rxc4,Bxc4,Qc5+,Kh2,Qxc4', 'https://lichess.org/training/Fqlr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fQNLS', 'Rapid', 'guli-guli', 1871, 'tuman19', 1671, 'e4,e5,f4,exf4,Nf3,d5,exd5,Be7,d3,Bh4+,Nxh4,Qxh4+,Ke2', 'Bg4+,Kd2,Bxd1', 'https://lichess.org/training/fQNLS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fqNmK', 'Rapid', 'bg712', 1857, 'Alessiooo', 1797, 'e4,e5,f4,d6,Nf3,exf4,d4,g5,Nc3,h6,Bc4,a6,Qe2,Bd7,Bd2,c6,O-O-O,b5,Bb3,a5,Nb1,a4,Bxf7+,Kxf7,e5,d5,g3,Be6,gxf4,c5,fxg5,hxg5,Nxg5+,Ke8,Qxb5+,Nd7,dxc5,Ra5,Qf1,Nxc5,h4,Rb5,Na3,Rb7,Qf3,Qb6,Bc3,Ne4,Nxe4,dxe4,Qxe4,Bxa3,Qg6+,Bf7,Qxb6,Rxb6,bxa3,Bxa2,Kd2,Ne7,Bd4,Rb5,Ra1,Be6,h5,Nf5,c3,Ng3,Rhg1,Nxh5,Rh1,Rb2+,Ke3,Rb3,Ra2,Kd7,Rah2,Bf7', 'e6+,Bxe6,Bxh8', 'https://lichess.org/training/fqNmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fQO6N', 'Rapid', 'abhi007_chess', 1628, 'lucasc86', 1655, 'c4,e5,b4,Bxb4,Bb2,Nc6,Nc3,a6,Rc1,Nf6,Nd5,Bc5,Nf3,O-O,Nxe5,Nxe5,Bxe5,Bxf2+,Kxf2,Ng4+,Kg1,Nxe5,d4,Ng4,e4,d6,Be2,Nf6,Nc3,c6,Kf2,Re8,Bd3,Ng4+,Kg3,Qc7,Kf3,Nf6,Kf2,d5,cxd5,Qf4+,Kg1,cxd5,e5,Ng4,Rc2,Ne3,Qd2,Bf5,Nxd5,Nxd5,Qxf4,Nxf4,Bxf5,Nd5,Kf2,Nb4,Rb2,a5,a3,Nd5,Rxb7,Rab8,Rd7,Rb2+,Kf3,Rb3+,Ke4', 'Nf6+', 'https://lichess.org/training/fQO6N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQoDP', 'Rapid', 'Lunaontilt', 1634, 'DISTRACTandFORK', 1746, 'd4,g6,Nf3,Bg7,e4,b6,Bc4,e6,d5,b5,Bb3,a5,dxe6,fxe6,a3,Nc6,O-O,Bb7,Bg5,Nge7,Nbd2,a4,Ba2,h6,Bxe7,Qxe7,Rb1,b4,axb4,Nxb4,Bc4,d5,exd5,Nxd5,Bxd5,Bxd5,Re1,Rb8,b4,axb3,Nxb3,O-O', 'Qxd5,exd5,Rxe7', 'https://lichess.org/training/FQoDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fQohl', 'Blitz', 'GgGooner', 1662, 'SriharshaJV', 1971, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,Be7,a3,O-O,d3,Bg4,h3,Bxf3,Qxf3,Nc6,Be3,Nd4,Bxd4,exd4,Nb5,a6,Nxd4,d5,exd5,c6,dxc6,Qxd4,cxb7,Rab8,c3,Qe5+,Kd2,Nd7,Rae1,Qg5+,Kc2,Nc5,h4,Qf6,g4,Nxb7,Qxf6,Bxf6,g5,Bd8,f4,Nd6,Ba2,Re8,Rxe8+,Nxe8,Re1,Bb6,d4,Nd6,Re7,h6,b4,Re8,Rd7,Re2+,Kb3,Ne4,c4,Re3+,Ka4,Nc3+,Kb3,Nd1+,Kc2,Nf2,c5,Re2+,Kb3,Re3+,Ka4,Nd3,cxb6', 'Nb2+,Ka5,Rxa3#', 'https://lichess.org/training/fQohl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FqPR7', 'Rapid', 'habalreeh', 1736, 'capu215', 1729, 'e4,e5,d4,Nc6,d5,Nce7,Nc3,Ng6,Nf3,d6,Bd3,Nf6,Bg5,Be7,Qd2,h6,Be3,Bg4,O-O-O,a6,h3,Bxf3,gxf3,c6,dxc6,bxc6,h4,Nh5,Na4,Nhf4,Bb6,Qd7,Bc4,Nxh4,Nc5,Qc8,Rxh4,Bxh4,Qxd6,Bxf2,Qxe5+,Ne6,Bxe6,fxe6,Qxg7,Rf8,Qg6+,Rf7,Qxe6+', 'Qxe6,Nxe6,Bxb6', 'https://lichess.org/training/FqPR7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fQPsL', 'Rapid', 'sakincoskun', 1624, 'AeneasS', 1621, 'e4,e5,Nf3,Nc6,Nc3,a6,d4,exd4,Nxd4,Bd6,Nxc6,dxc6,Be2,Be6,O-O,Nf6,Bg5,h6,Bh4,g5,Bg3,Qe7', 'e5,Bxe5,Bxe5', 'https://lichess.org/training/fQPsL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQpZN', 'Blitz', 'CM masterhec', 2408, 'FM Mariogavilan', 2335, 'd4,f5,g4,fxg4,h3,g3,fxg3,Nf6,Nc3,d5,Nf3,Bf5,Bf4,e6,a3,a6,g4,Bg6,Ne5,c5,Nxg6,hxg6,Qd3,Kf7,O-O-O,cxd4,Qxd4,Nc6,Qf2,g5,Bxg5,Be7,Bg2,Rf8,e4,Kg8,exd5,exd5,Bxf6,Bxf6,Bxd5+,Kh8,Qd2', 'Bg5,Kb1,Bxd2', 'https://lichess.org/training/FQpZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fQQGP', 'Blitz', 'Boad1337', 1918, 'j1234j', 1917, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,h3,Be7,d4,exd4,Nxd4,Bd7,O-O,O-O,Bc4,Na5,Bd3,Qc8,Nf5,Re8,Nxe7+,Rxe7,Bg5,Re6,f4,Ne8,f5,Re5,Qg4,f6,Bf4,Re7,Rf3,Nc6,Rg3,Ne5,Qh5,c6,Bxe5,dxe5,Bc4+,Kh8,Rg4,Qc7,Bf7,Qb6+,Kh2,Qxb2,Rf1,Qxc3', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/fQQGP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQqH1', 'Classical', 'tamerseda85', 1695, 'zx14', 1775, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,dxc4,e4,Be7,Bxc4,h6,Bxf6,Bxf6,e5,Be7,Nf3,O-O,O-O,c5,dxc5,Bxc5,Qa4,Nc6,Qb5,Qb6,Qxb6,Bxb6,Ne4,Bc7,Nd6,Rd8,Nxc8,Raxc8,Rfe1,Nb4,Rac1,Ba5,Rf1,a6,a3,Nc6,b4,Bc7,Rfe1,b5,Bxb5,Nxe5,Nxe5,Bxe5,Rxc8,Rxc8,Bxa6,Ra8,Bc4,Bb2,Rb1,Bxa3,b5,Rb8,b6,Kf8,b7,Ke7,Be2,Kd7,Bf3,e5,Ra1,Bd6,Ra8,f5,Bd5,g5,Kf1,e4,Ke2,h5,Kd2,h4,Kc3,Bxh2,Kc4,Kc7,Kc5,Bd6+,Kb5,f4,Bxe4,g4,Ka6,Bc5,Bc6,Bxf2,Bd7,f3,gxf3,g3,Bh3,Rxb7', 'Rc8+,Kd6,Kxb7', 'https://lichess.org/training/FQqH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FqRPm', 'Blitz', 'guidi-massimiliano', 1532, 'chrisThore', 1519, 'e4,c5,Nf3,Nc6,d4,d5,Bb5,e6,Ne5,Qb6,Nc3,a6,Bxc6+,bxc6,O-O,cxd4,Na4,Qb4,Qf3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/FqRPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fQrPu', 'Rapid', 'petersonmartins2706', 1730, 'NizamiJafar', 1718, 'e4,e5,Bc4,Bc5,Nc3,d6,Nf3,Nf6,h3,Nc6,O-O,O-O,d3,h6,Re1,Nd4,Be3,Nxf3+,Qxf3,b6,Bxc5,bxc5,Nd5,Nxd5,Bxd5,Rb8,Rab1,Be6,Qe3,Bxd5,exd5,Qf6,Qd2,Rfe8,Qa5,e4,dxe4,Rxb2,Rxb2,Qxb2,Qxa7,Qxc2,Qxc7,Rxe4', 'Qc8+,Kh7,Qf5+', 'https://lichess.org/training/fQrPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQS0S', 'Rapid', 'BurkeinaFaso', 1694, 'talukder', 1711, 'e4,b6,Nc3,Bb7,d3,e6,Nf3,Bb4,Bd2,Nf6,a3,Be7,e5,Nd5,Be2,d6,O-O,dxe5,Nxe5,Nd7,d4,Nxe5,dxe5,O-O,Bf3,Nxc3,Bxc3,Bxf3,Qxf3,f6,Rad1,Qe8,Qg4,f5,Qc4,c5,Qxe6+,Kh8,Qc4,f4,Qe4,Qh5,Rd3,Rae8,Rh3,Qf5,Qe2,Bg5,Re1,Bh6,Rh5,Qg6,Qe4,Qxh5,e6,Qg5,e7,Rf7,Qc6,Rfxe7', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/FQS0S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fQV9s', 'Rapid', 'captaincomeback', 2006, 'brownprose', 2037, 'd4,d5,Bf4,e6,e3,Nf6,Nf3,Nbd7,Bd3,h6,O-O,Nh5,c4,Nxf4,exf4,Bd6,Ne5,c6,c5,Bxe5,fxe5,O-O,Qg4,f5,exf6,Nxf6,Qg6,Qe8,Nd2,Qxg6,Bxg6,b6,Nb3,Rd8,a4,Kf8,a5,bxc5,Nxc5,Ke7,Rfe1,Rb8,Rab1,Rb4,Red1,Kd6,Rd2,e5,dxe5+,Kxe5', 'Nd3+,Kd6,Nxb4', 'https://lichess.org/training/fQV9s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fqvFf', 'Classical', 'Conneely93', 1711, 'annoygenius', 1732, 'd4,c5,c4,Nf6,Nf3,cxd4,Qxd4,Nc6,Qd1,g6,Bg5,Bg7,Qc2,O-O,Nbd2,d6,a3,Bf5,e4,Bd7,Bd3,Qb6,Be3,Qc7,O-O,a6,Rab1,Ng4,Bf4,a5,Rfe1,Nge5,Bf1,Rfb8,b4,axb4,axb4,Nxf3+,Nxf3,Ne5,Nxe5,dxe5,Bg5,e6,Be7', 'Ba4,Qc3,Qxe7', 'https://lichess.org/training/fqvFf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fQVK7', 'Rapid', 'sjors17', 1806, 'draive', 1801, 'Nf3,d5,g3,Nc6,c3,e5,d4,e4,Ne5,Nxe5,dxe5,Qe7,h4,c6,Bf4,Nh6,Bg2,g6,O-O,Bg7,Qd2,Nf5,f3,Bxe5,fxe4,dxe4,Bxe5,Qxe5,Rf4,Nxg3,Qe3,Nf5', 'Rxe4,Nxe3,Rxe5+,Be6,Rxe3', 'https://lichess.org/training/fQVK7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fQWV6', 'Rapid', 'YotKing', 2039, 'CaturVierD', 1960, 'd4,d5,Nd2,Nf6,Ngf3,Bf5,e3,h6,c4,c6,cxd5,cxd5,Bb5+,Nc6,Ne5,Rc8,Bxc6+,bxc6,Qa4,Qc7,O-O,e6,Nb3,Nd7,f4,f6,Nxd7,Qxd7,Bd2,Be7,Rac1,O-O,Na5,Bd3,Nxc6,Bxf1,Nxe7+,Qxe7,Rxf1,Rc4,Qa5,Qc7,Qa3,Rc2,Bb4,Rf7,Bc5,e5,Qb3,Rc4,Qd3,exd4,exd4,Qa5,Qb3,Qa4', 'Qb8+,Kh7,b3,Qxa2,bxc4', 'https://lichess.org/training/fQWV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fQXGN', 'Rapid', 'quitecold', 1730, 'strawinsky', 1749, 'c3,e5,d4,e4,Bf4,d5,Nd2,Nf6,e3,a6,Be2,Bd6,Bg5,Be7,Nb3,b6,Nd2,Nbd7,Nf1,h6,Bh4,Nh7,Bg3,O-O,Nh3,Ndf6,Nf4,Bg4,Bxg4,Nxg4,Qxg4,f5,Qg6,Rf6,Qh5,g5,Ng6,Bf8,Be5,Re6,Ng3,Nf6,Qe2,Nd7,Nxf8,Qxf8,Qh5,Nxe5,dxe5,Rxe5,Qg6+,Qg7,Qc6,Rc8,Nh5,Qf7,Nf6+,Kg7,Nd7,Re6,Qa4,Rd8,Qd4+,Kg8,Ne5,Qe8,f4,exf3,Nxf3,Rxe3+,Kf2,Re2+,Kf1,Rxb2,Re1,Qb5+,c4,Qb4,Re2,Rb1+,Ne1,Qxc4,Qf6,Rxe1+,Kf2,Rxh1,Qxd8+,Kh7,Re7+,Kg6,Qg8+,Kh5,Qf7+,Kg4,h3+,Kh4', 'g3+,Kxh3,Qh5+,Qh4,gxh4', 'https://lichess.org/training/fQXGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fqXrD', 'Rapid', 'TurkishPro2008', 1685, 'iskhulukhia', 1653, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,d3,Be7,h3,O-O,Be3,Be6,Qd2,a6,Ba4,Na5,Bb3,Nxb3,axb3,b5,g4,d5,Nxe5,dxe4,Nc6,Qd6,Nxe7+,Qxe7,Nxe4,Nxe4,dxe4,Rfd8,Qe2,Qb4+,Bd2', 'Rxd2,Qxd2,Qxe4+,Qe2,Qxh1+', 'https://lichess.org/training/fqXrD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fqYAe', 'Classical', 'Eva7755', 1770, 'pawnpawer', 1773, 'e4,c5,Nf3,d6,h3,a6,c3,Nf6,e5,dxe5,Nxe5,Qc7,Qa4+,Bd7,Nxd7,Nbxd7,Bc4,b5,Bxb5,e6,O-O,Be7,Bc6,Ra7,Bf3,O-O,Qd1,Ne5,Be2,Ng6,d3,Rd8,Bd2,Nd5,Na3,Ndf4,Bxf4,Nxf4,Qc2,Qe5,Rae1,Qg5,Bf3,Nxh3+,Kh2,Bd6+,Kxh3', 'Qh6+,Bh5,Qxh5#', 'https://lichess.org/training/fqYAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fqycB', 'Rapid', 'xxxbbbxxx', 1832, 'kapaline', 1893, 'e4,c5,Nf3,Nc6,Bb5,Qb6,Nc3,Nd4,Nxd4,cxd4,Nd5,Qd8,Qh5,e6,Qe5,f6,Qxe6+,Ne7,e5,a6,exf6,axb5', 'f7#', 'https://lichess.org/training/fqycB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FQZq5', 'Blitz', 'RedSvenskaPhoenix', 2168, 'FM Maestro_Isa', 2469, 'c4,e6,e4,d5,cxd5,exd5,exd5,Nf6,Nc3,Nxd5,Bc4,Nxc3,bxc3,Bd6,Nf3,O-O,O-O,Nc6,h3,Bf5,d4,Qd7,d5,Ne5,Nxe5,Bxe5,Qf3,Rfe8,Bf4', 'Bxf4,Qxf4,Re4,Qxe4,Bxe4', 'https://lichess.org/training/FQZq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FqZWm', 'Rapid', 'pattfalle', 1897, 'sikwa', 2000, 'e4,c5,Nc3,Nc6,f4,d6,Bc4,e5,Nf3,Bg4,O-O,Nf6,h3,Bxf3,Qxf3,Nd4,Bb5+,Nd7,Qd1,Be7,d3,O-O,f5,a6,Bc4,Bg5,Qg4,Bxc1,Raxc1,Nf6,Qg5,h6,Qh4,b5,Bb3,b4,Nd1,Ne2+,Kh2,Nxc1,Ne3,Nxb3,axb3,d5,Rf3,dxe4,Rg3,Kh7,dxe4,Qd4,Ng4,Nxe4,f6,Nxg3,fxg7,Nf1+,Kh1,Qf4,Nf6+,Kxg7,Nh5+,Kh7,Nxf4,exf4,Qxf4,f5,Qxf1,Rf6,Qc4,Rc8,Kg1,Rcc6,Kf2,Kg6,Kf3,Rfe6,Qd5,Kf6,Qd8+,Ke5,Qb8+,Kf6,Qh8+,Kf7,Qh7+,Kf6,Qxh6+,Ke7,Qg5+,Ke8,h4,Rg6,Qe3+,Rge6,Qf4,Rcd6,h5,Kf7,Qg5,Rc6,g3,Rf6,Qf4,Kg7,Qg5+,Kh7,Kf4,Rcd6,Kf3,Rde6,Qd2,Rd6,Qe3,Rc6,Qd2,Kg7,Qe3,a5,Qe7+,Kh6,Qe8,Rce6,Qh8+,Kg5,Qg7+,Kxh5,Qh7+,Kg5,Qg7+,Rg6,Qh7,Kf6,Qh4+,Kg7,Qd8,Kh6', 'Qh8+,Kg5,Qh4#', 'https://lichess.org/training/FqZWm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FR1Yi', 'Bullet', 'rail19810207', 2046, 'rodenas1', 2091, 'd4,c6,c4,d5,e3,Nf6,Nc3,Bf5,Bd3,Bxd3,Qxd3,e6,Nge2,Bd6,O-O,Nbd7,c5,Bc7,f4,Qe7,b4,a6,a4,h6,Ba3,O-O,b5,Rad8,bxa6,bxa6,Qxa6,Nb8,Qb7,Rd7,Qb3,Nh5,a5,Na6,Bb4,Rb8,Ra4,Bd8,Na2,Rdb7,Rb1,Nf6,Qc2,Ne4,Rb2,Qh4,g3,Qg4,Kg2,h5,Ba3,Rxb2,Bxb2,h4,Bc1,hxg3,hxg3,Bh4,Nac3,Nxg3,Nxg3,Qxg3+,Kf1,Qf3+,Kg1,Nb4,Qg2,Qh5,a6,Nd3,Bd2,Bf2+,Kf1,Rb3,a7', 'Rb1+,Nxb1,Qd1+,Be1,Qxe1#', 'https://lichess.org/training/FR1Yi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fR3bk', 'Rapid', 'wunknown', 1818, 'jitender87', 1795, 'e4,e5,f4,Bd6,fxe5,Bxe5,Nf3,Nf6,Nxe5,Nxe4,Nf3,O-O,Bd3,Re8,O-O,c6,Bxe4,Rxe4,Nc3,Qb6+,Kh1,Re6,d4,d5,Ng5,Rg6,Qe2,Be6,Bd2,Na6,h4,Rh6,g3,Qxd4,Rf4,Qb6,Raf1,Qc7,R4f3,Re8,Nxf7,Bxf7', 'Qxe8+,Bxe8,Rf8#', 'https://lichess.org/training/fR3bk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fR3XV', 'Rapid', 'tonyetc', 1950, 'hsolitario', 1965, 'd4,Nf6,Nc3,d5,Nf3,h6,h3,Bf5,Bf4,e6,Nb5,Na6,e3,c6,Nc3,Bb4,a3,Bxc3+,bxc3,Ne4,Bxa6,bxa6,Ne5,c5,O-O,f6', 'Qh5+,g6,Nxg6,Bxg6,Qxg6+', 'https://lichess.org/training/fR3XV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FR523', 'Rapid', 'EmilioBiroBiro', 1898, 'bigkahuna_burger', 1949, 'd4,Nf6,e3,d5,Bd3,e6,Nd2,c5,c3,Nc6,f4,Be7,Ngf3,O-O,O-O,Ng4,Qe2,cxd4,exd4,Re8,Ne5,Ngxe5,fxe5,f6,exf6,Bxf6,Rf3,e5,dxe5,Nxe5,Re3,Qb6,Kh1,Bg4,Qe1,Qc6,Be2,Bh4', 'Qxh4,Bxe2,Rxe2', 'https://lichess.org/training/FR523');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fr5p8', 'Classical', 'vopaev', 1956, 'Mihasi_md', 2021, 'd4,Nf6,c4,e6,e3,c5,Nf3,cxd4,exd4,d5,Nc3,dxc4,Bxc4,Qc7,Bb5+,Bd7,O-O,a6,Bxd7+,Nbxd7,d5,e5,Bg5,Bd6,Qa4,O-O,Bxf6,Nxf6,Ne4,Nxe4,Qxe4,f5,Qh4,h6,Rac1,Qf7,Qc4,Kh8,Qb3,Rae8,Qb6,Qe7,g3,Rf6,Qb3,f4,Rfe1,Qf7,Kg2,e4,Nd4,fxg3,fxg3,Rf2+,Kg1,Rf8,Qe3,Qh5,h4,Qg4,Rc3,Bb4,Qxe4,Qxe4,Rxe4,Bxc3,bxc3,Rxa2,d6,Rd8,Nf5,g6,Nxh6,Rxd6', 'Nf7+,Kg7,Nxd6', 'https://lichess.org/training/fr5p8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fR6ui', 'Rapid', 'asedmohammad', 1629, 'BonyTimofeich', 1660, 'e3,d6,h3,Nf6,c3,e5,a4,Be7,Nf3,O-O,Be2,Bd7,O-O,c5,d4,cxd4,cxd4,Nc6,dxe5,dxe5,Bb5,e4,Bxc6,Bxc6,Nd4,Be8,b3,Bc5,Ba3,Bxd4,Qxd4,Qxd4,exd4,Bc6,Bxf8,Kxf8,Nc3,Nd5,Nxd5,Bxd5,Rab1,Rc8,b4,b6,a5,Rc4,Rfd1,b5,Kf1,Ke7,Ke2,f5,Ke3,g5,f3,Kf6,Kf2,h5,fxe4,fxe4,g4,h4,Ke3,Rc3+,Kd2,Rxh3,Ke2,Rc3,Rdc1,Rc4,Rxc4,Bxc4+,Ke3,Bd3,Rc1,h3,Rh1,Kg6,Rxh3,Bb1,Rh8,Ba2,Ra8,Be6,Rxa7,Bxg4,Rb7,Bh3,Kxe4', 'Bg2+,Ke5,Bxb7', 'https://lichess.org/training/fR6ui');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fr7BJ', 'Blitz', 'CM samidescalona2002', 2458, 'RedAlertGo', 2213, 'e4,c5,b4,cxb4,a3,d5,e5,Nc6,d4,Bf5,axb4,Nxb4,Bb5+,Bd7,Be2,Bf5,Bb5+,Bd7,Bxd7+,Qxd7,c3,Nc6,Nf3,e6,O-O,Nge7,Nbd2,h5,Nb3,Nf5,h3,Rc8,g4,hxg4,hxg4,Nh4,Nxh4,Rxh4,Kg2,a6,Bg5,Rh8,Qd2,Qc7,Rh1,Rxh1,Rxh1,Qb6,Nc1,Na5,Nd3,Nc4,Qf4,a5,Nc5,Qc7', 'Rh8,Qxc5,dxc5', 'https://lichess.org/training/Fr7BJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FR83W', 'Rapid', 'xaniageo', 1677, 'syahru', 1650, 'e4,c5,Nf3,Nc6,Bb5,d6,d4,cxd4,Nxd4,Bd7,Nc3,Nf6,O-O,g6,Bg5,Bg7,Re1,O-O,Qd2,Re8,Rad1,a6,Ba4,Nxd4,Bxd7,Nf3+,gxf3,Qxd7,Kg2,Nh5,Bh6,Be5,Rg1,f5', 'Qd5+,e6,Qxe5,dxe5,Rxd7', 'https://lichess.org/training/FR83W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frA7q', 'Rapid', 'sergeyvelikov1978', 1999, 'Buryat03rus', 1725, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,d6,O-O,Nf6,Nc3,Nxd4,Qxd4,Be7,e5,dxe5,Qxe5,O-O,Rd1,Bd6,Qd4,Nh7,Ne4,Qh4,g3,Qh3,Nxd6,cxd6,Qxd6,Bg4,Re1,Bf3,Bf1,Qh5,Be3,Rad8,Qc7,Rc8,Qf4,Ng5,h4,Rfe8,Qf5,Bg4,Qf4,Re4,Qd6,Nf3+,Kg2,Nxe1+,Rxe1,Bf3+,Kh2,Rxh4+', 'gxh4,Qxh4+,Bh3,Bg4,Qg3', 'https://lichess.org/training/frA7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Frang', 'Rapid', 'rahul_rocky', 1761, 'weeding10', 1767, 'd4,g6,e4,Bg7,e5,d6,exd6,Qxd6,Be3,Nf6,Nc3,Be6,Nf3,Nc6,Be2,O-O,Qd2,a6,Bh6,Rad8,Rd1,Bd7,d5,Na7,Bf4,Qb4,Rb1,e5,a3', 'Qxf4,Qxf4,exf4', 'https://lichess.org/training/Frang');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FraZ6', 'Classical', 'AAym', 1690, 'tfiw', 1696, 'e4,e5,Nf3,d6,d4,Nf6,dxe5,Nxe4,Bd3,Bf5,exd6,Bxd6,O-O,O-O,Re1,Bc5,Bxe4,Bxe4', 'Qxd8,Rxd8,Rxe4', 'https://lichess.org/training/FraZ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FrBCV', 'Blitz', 'Top_Maths', 2377, 'FM Oldiesbutgoodies', 2453, 'e4,g6,Nc3,Bg7,f4,c5,Nf3,Nc6,d3,d6,h3,Nf6,g4,O-O,Bg2,e5,f5,d5,g5,Nh5,f6,Bh8,Nxd5,Be6,c4,h6,h4,Bg4,a3,Nd4,Be3,Qa5+,Kf2,Rad8,b4,Qa6,Bxd4,cxd4,Qd2,Rxd5,cxd5,Bxf6,gxf6,Qxf6,Qxh6,Nf4,Kg3,Bh5,Ng5', 'Ne2+,Kh3,Bg4+,Kxg4,Qf4+,Kh3,Qg3#', 'https://lichess.org/training/FrBCV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frBKd', 'Blitz', 'BeamerTheGreat', 2329, 'WCM kukola', 2125, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,a6,Nge2,e6,O-O,Be7,d3,Nbd7,f4,O-O,h3,Rb8,g4,b5,Ng3,Re8,f5,exf5,Nxf5,Ne5,g5,Nfd7,Nxe7+,Qxe7,Nd5,Qd8,Bd2,Bb7,Ne3,Nf8,Nf5,Bc8,Qe1,d5,Qf2,dxe4,Bxe4,Bxf5,Qxf5,g6,Qf2,Ne6,Qg3,Nd4,Rf2,Nxc2,Raf1,Nd4,Bf4,Qc7,Re1,Qe7,Re3,Rbd8,Rf1,Nc2,Re2,Nd4,Re3,Nc2,Re2,Nd4,Ref2,c4,dxc4,Nxc4,Bd3,Qc5,Kh2,Ne5,Be4,Nc4,Bb7,Nf5,Qg2,Qd4,Bxa6,Nce3,Qf3,Nxf1+,Rxf1,Qd3,Qf2,Re2,a4,Rxf2+,Rxf2,Qe4,axb5,h5,b6,Nd6,Bxd6,Rxd6,b3,Qe5+,Kg1,Rxb6,Bc4,Qg3+,Kf1,Qxh3+,Kg1,Rd6,Rxf7,Qg3+,Kh1,Rd8', 'Rf3+,Kh7,Rxg3', 'https://lichess.org/training/frBKd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frD4Q', 'Rapid', 'erena3000', 1746, 'ChrisStoni', 1825, 'e4,c5,Nc3,e6,d3,Nc6,Be2,Nf6,Nf3,d5,exd5,exd5,O-O,h6,Re1,Bd6,h3,O-O,Nh2,b6,Bg4,Bb7,Qf3,Ne5,Qd1,Nexg4,Nxg4,Nxg4,Qxg4,Qf6,Bd2,a6,Qd7,Rab8,Re2,Rfd8,Qg4,Qg6,Qxg6,fxg6,Rae1,Kf7,a3,Re8,g3,d4,Ne4,Bc7,c3,Be5,Kf1,a5,cxd4,Bxd4,Bc3,Bxc3,Nxc3,Ba6,Rd2,Rbd8,Red1,Rd4,Ne2,Rd7,Nf4,Red8,Ke2,g5,Ng2,Bb5,Ne3,Ba4,Rc1,Bb3,Rc3,a4,Ng4,Re8+,Kf1,b5,Rxc5,Kg8,Re5,Red8,Re3,Bc4,Ke2,Bb3,Re5,Bc4,Re3,Bb3,Ne5,Rd6,Nf3,Bc4,Ne5,Be6,g4,Bb3,Nf3,Ba2,h4,gxh4,Nxh4,Kh7,Nf5,R6d7,Re7', 'Rxe7+,Nxe7,Re8', 'https://lichess.org/training/frD4Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FRd8E', 'Classical', 'RedVikingDude', 1621, 'Sagar266', 1662, 'e4,c5,Nf3,d6,Nc3,a6,Bc4,Nf6,Ng5,e6,d3,g6,Qf3,Bg7,a3,Nc6,Na2,Nd4,Qd1,b5,Bb3,O-O,c3,Nxb3,Qxb3,Ng4,h3,Ne5,O-O,Nxd3,Be3,c4,Qc2,Bb7,Nc1,Nxc1,Raxc1,Be5,Nf3,Bf6,Rfd1,Qe7,Nd4,Rac8,f3,Rfd8,Rd2,d5,exd5,Bxd4,Bxd4,Bxd5,Bb6,Rd7,Kf2,Qh4+,Kg1,Qg5,Rd4,Rb7,Rg4,Qf6,Bd4,Qe7,h4,h5,Rg5,Qd6,Be5,Qc5+,Bd4,Qd6,Be5,Qc5+,Bd4,Qc6,Qe2,Qc7,Be5,Qc5+,Bd4,Qc6,Qe5,Kf8,Qg7+,Ke7,Rxg6,Kd6,Qe5+,Kd7,Rg7,Ke7,Qf6+,Kd6,Be5+,Kc5,Rxf7,Rxf7,Qxf7,Kb6,Bd4+,Ka5,Re1', 'e5,Qxh5,exd4', 'https://lichess.org/training/FRd8E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frDvI', 'Rapid', 'mica03', 1650, 'AntoniusH', 1676, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bg4,Be2,Nc6,O-O,e6,h3,Bxf3,Bxf3,Bd6,c3,Nge7,Nd2,O-O,Nb3,Nf5,Nc5,b6,Nb7,Qc7,Nxd6,Qxd6,Qe2,Na5,Qe5,Nc4,Qxd6,Nfxd6,b3,Na5,Bf4,Nf5,Bg4,Rac8,Rac1,Ne7,Bd6,Rfe8,f4,f6,f5,exf5,Bxf5,Nxf5,Rxf5,Re3,Bb4,Nc6,Ba3,Ne7,Bxe7,Rcxc3,Rxc3,Rxc3,Rxd5,Rc2,a3,Rb2,b4,Ra2,b5,Kf7,Bb4,Ke6,Rd6+,Kf5,Rd7,Kf4,Rxg7,Ke3,Rxa7,Kxd4,Rxh7,Kc4,Rh6,Kxb5,Rxf6,Kc4,Rxb6,Kd3,Ra6,Ke3,h4,Kf4,h5,Kg3,h6', 'Ra1+,Be1+,Rxe1#', 'https://lichess.org/training/frDvI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fregc', 'Rapid', 'kiminaga90', 1830, 'Naivedh', 1772, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Qe2,d5,Ba6', 'Qa5+,Bd2,Qxa6,Qxa6,Bxa6', 'https://lichess.org/training/fregc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frelR', 'Rapid', 'Suriado', 2073, 'sergiolino', 1953, 'e4,c5,c3,g6,d4,cxd4,cxd4,d5,e5,Bg7,Nc3,a6,Be3,Nc6,Bd3,Nh6,Qd2,Nf5,Nge2,Nxe3,fxe3,Bg4,O-O,Bxe2,Nxe2,e6,Ng3,Qg5,Rf3,O-O,Raf1,Nxd4,R3f2,Nc6,Ne2,Bxe5,g3,d4,Nxd4,Nxd4,exd4,Qxd2,Rxd2,Bxd4+,Kg2,Rad8,Be4,b6,g4,Be3,Rd3,Rxd3,Bxd3,Rd8,Rd1,b5,Be2,Rc8,Kf3,Bg5,Rd6,Rc2,Rxa6,Rxb2,Ra5,Bf6,Bxb5,Bc3,Ra8+,Kg7,a4,Rxh2,a5,Rb2,Bc4,Rb4,Rc8,Ra4,Bb3,Rxa5,Rxc3,Ra3,Kf4,h6,Rd3,Kf6,Rh3,e5+,Ke4,Kg5,Kxe5,Kxg4', 'Be6+,fxe6,Rxa3', 'https://lichess.org/training/frelR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FrEyg', 'Rapid', 'A_T_I', 2111, 'valera-sveta', 2194, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5a3,Be6,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd5,Nd4,Nc2,Qa5+,Qd2', 'Nxc2+,Kd1,Qxd2+', 'https://lichess.org/training/FrEyg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frG1O', 'Rapid', 'Rev0lutionZ', 1896, 'tigersta', 1679, 'd4,d5,c4,dxc4,e3,Nc6,Bxc4,Nf6,Nf3,Bg4,Nc3,e6,e4,Nxd4,h3,Nxf3+,gxf3,Qxd1+,Nxd1,Bxf3,Rg1,Bxe4,Bf4,Bb4+,Kf1,O-O-O,Rc1,Rhg8,Be2,Rd7,a3,Bd2,Bxd2,Rxd2,b4,Bd3,Bxd3,Rxd3,Rg5,h6,Rgc5,c6,b5,Ne4,R5c2,Rgd8,Ne3,R8d6,bxc6,Rxc6,Rxc6+,bxc6,Rxc6+,Kd7,Ra6,Ke8,Rxa7,Rd7,Rxd7,Kxd7,Ke2,Nc3+,Kd3,Nb5,a4,Nc7,Kc4,Kc6,Nc2,g5,Nb4+,Kb6,Kd4,Ka5,Nc6+,Kxa4,Ke5,Ne8,Ne7,Kb4,Ng8,h5,Nf6,h4,Nxe8', 'g4,hxg4,h3', 'https://lichess.org/training/frG1O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRgAd', 'Rapid', 'arturo6', 1710, 'Hausspiel', 1632, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,Bd3,Bg4,O-O,e6,Ne4,Nxe4,Bxe4,Nc6,c3,O-O-O,d4,Ne5,Qb3,Nxf3+,gxf3,Bh3,Qxb7+,Kd7,Re1,Be7,Qb5+,c6,Qb7+,Qc7,Qxc7+,Kxc7,Bf4+,Bd6,Bg3,f5,Bd3,f4,Bh4,Rd7,c4,h6,c5,Bf8,Bg6,Bf5,Bxf5,exf5,Re5,g5,Rxf5,Rxd4,Re1,gxh4,Rf7+,Kd8,Rxa7,Rg8+,Kf1,Rc4,a4,Rxc5,b4,Rcg5,Re6,Bxb4,Ra8+,Kc7,Rxg8,Rxg8,Rxh6,Be7,Rh7,Kd6,Rh6+,Kc5,Re6,Rg7,a5,Rf7,a6,Kb6,a7,Kxa7,Rxc6,Kb7,Re6,Kc7,Kg2,Rg7+,Kh3,Kd7,Re4,Rf7,Rd4+,Ke6,Kg4,Ke5,Re4+,Kd6,Rxf4,Rg7+,Kh3,Bg5,Rg4,Ke5', 'f4+,Bxf4,Rxg7', 'https://lichess.org/training/fRgAd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRgbB', 'Rapid', 'KuanXXX', 1924, 'Boiled_Gooase', 1989, 'd4,Nf6,c4,c5,d5,e5,Nc3,d6,e4,g6,h3,Bg7,Nf3,O-O,Bd3,a6,a4,Bd7,O-O,Ne8,Bg5,f6,Bh4,g5,Bg3,f5,exf5,Bxf5,Nh2,Nd7,Ne4,Ndf6,Nxf6+,Rxf6,Ng4,Rf8,Bxf5,Rxf5,Ne3,Rf8,Qg4,Nc7,h4,h6,Nf5,b5,axb5,axb5,Rxa8,Nxa8,hxg5,hxg5,Ra1,bxc4,Ra7,Nc7,f4,exf4,Bxf4,Rxf5,Qxf5,gxf4,Qxf4,Nxd5,Qg4,Qf6,Ra8+,Kh7,Qh5+,Bh6,Qxd5', 'Be3+,Kh2,Qh4#', 'https://lichess.org/training/fRgbB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FriIJ', 'Blitz', 'slenkx1000', 1569, 'FinnJake', 1595, 'e4,c6,c4,d6,Nc3,e5,Nf3,Nd7,Be2,Qc7,O-O,Ngf6,d4,a6,d5,h6,dxc6,bxc6,Be3,Nc5,b4,Ncxe4,Nxe4,Nxe4,c5,dxc5,bxc5,Bxc5,Rc1,Bxe3,fxe3,Bb7,Bc4,O-O,Nh4,Rad8,Qg4,Nf6,Qg3,Ne4,Qg4,Nd2,Rxf7,Rxf7,Bxf7+,Qxf7,Nf5,Bc8', 'Nxh6+,Kf8,Nxf7,Bxg4,Nxd8', 'https://lichess.org/training/FriIJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRIME', 'Rapid', 'Seck1604', 2090, 'ricky0112', 2070, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,Qb6,Nb3,e5,Be3,Qd8,Nd5,d6,Bb6,Qh4,Nc7+,Kd7,Nc5+,Ke7,Nxa8,Nd4,Nc7,Bg4,Nd5+,Ke8,Qd2,dxc5,Nc7+,Kd7,c3,Kc6,cxd4,Kxb6,Nd5+,Ka7,dxe5,Ne7,g3,Qh5,Bg2,Nc6,Qc3,Nd4,Ne3,Bf3,Kd2,Qxe5,Bxf3,Nxf3+,Kd1,Qxe4,Qc2,Qd4+,Ke2,Ne5,Rhd1,Qb4,a3,Qb5+,Ke1', 'Nf3#', 'https://lichess.org/training/fRIME');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frJa0', 'Rapid', 'Santiago_Lujann', 2246, 'aasadi00', 2165, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,d6,c3,Bg4,Re1,Qd7,Nbd2,O-O-O,b4,g5,a4,d5,exd5,Nxd5,Qb3,Be6,a5,Nf4,b5,Nb8,Nxe5,Bxc4,Qxc4,Qf5,Qxf7,Qxf7,Nxf7,Bg7,d4,Rhe8,Nf3,Rxe1+,Nxe1,Rd7,Bxf4,Rxf7,Bg3,Re7,Kf1,Nd7,Nd3,Nf6,f3,Re3,Rd1,Nd5,c4,Nc3,Rd2,Nb1,Rb2,Rxd3,Rxb1,Bxd4,Be1,Bc5,Rb2,Rd1,Rd2,Ra1,Re2,Bb4,Kf2,Bxe1+,Rxe1,Rxa5,Re6,Ra2+,Kg3,Rc2,Re4,Kd7,h4,a6,bxa6,bxa6,hxg5,hxg5,Re5,Rxc4,Rxg5,Rc6,f4,Rc3+,Kg4,Rc2,g3,c5,Kh5,c4,f5,Rh2+,Kg6,c3,f6,Ke6,Rc5,c2,f7,Rf2,Rc6+,Ke7,Rc7+,Kf8,Rc8+,Ke7,Rc7+,Kd6', 'Rxc2,Rxc2,f8=Q+', 'https://lichess.org/training/frJa0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frjDK', 'Classical', 'olgunali', 1677, 'asigolu', 1682, 'e4,e5,f4,d6,Nf3,Nc6,Nc3,exf4,d4,g5,h4,f6,Bb5,Bd7,hxg5,fxg5,e5,dxe5,Bxc6,Bxc6,Nxe5,Qe7,Qh5+,Kd8,O-O,Nf6,Qxg5,Bxg2,Rf2,Rg8,Qxf4,Nh5,Qf7', 'Bd5+,Qxg8,Bxg8', 'https://lichess.org/training/frjDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRk7I', 'Rapid', 'babadee', 2174, 'Le_Grave_Musicien', 2049, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nf6,Nc3,d6,a3,b5,Be2,Nbd7,Bf3,Bb7,O-O,e6,g3,Qc7,Bg2,Be7,f4,O-O,Be3,Nb6,f5,e5,Nb3,Nc4,Bc1,Rfd8,Qe2,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Rxd5,Nd2,Ne3,Ne4,Nxf1,Kxf1,f6,Be3,Rad8,c3,Qd7,g4,Qc6,Re1,Rd3,Qf3,Qd5,Kg2,Rd7,Re2,Bd8,h4,Bb6,g5,Rxe3,Rxe3,Bxe3,Qxe3,fxg5,hxg5,h6,gxh6,gxh6,Qf3,Rg7+,Kh3,Qf7,f6,Rg6,Kh2,Kh7,Qf5,Kh8,Qxe5,Rg8', 'Nd6,Qf8,f7+', 'https://lichess.org/training/fRk7I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frk8g', 'Rapid', 'tbunji', 2134, 'kareem123hneady', 2138, 'd4,e6,c4,b6,Nc3,Bb7,e4,Bb4,Bd3,f5,Qe2,Nf6,f3,Bxc3+,bxc3,fxe4,fxe4,O-O,Nf3,Nc6,O-O,d5,cxd5,exd5,e5,Nd7,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Rxf1+,Kxf1,Qf8+,Kg1,Qf5,Be3,Rf8,g4,Qd3,Re1,Ba6,Ne6,Rf1+,Kg2,Qe4+,Kg3,Rf3+,Kh4,Nf6,exf6,Qxe6,fxg7,Ne7', 'Qh8+,Kf7,Qf8+', 'https://lichess.org/training/frk8g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRklX', 'Classical', 'mocsh', 1780, 'DISHWASHER54', 1753, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d5,Be2,Bf5,h3,O-O,O-O,Nc6,c4,e6,g4,Bxb1,Rxb1,Ne4,Qc2,a5,cxd5,exd5,a4,Nb4,Qxc7,Qxc7,Bxc7,Rfc8,Rbc1,Nc6,Bb6,Bf6,Kg2,Bd8,Bxd8,Rxd8,Bd3,h6,Ng1,Re8,Rfd1,Nb4,Bb1,Re6,Rc7,b6,Ne2,g5,Ng3,Nxg3,Kxg3,Nc6,Rc1,Ne7,Rd7,Nc6,Rxd5,Rd8,Rxd8+,Nxd8,Rc8,Rd6,Ba2,Kg7,Rc7,Kf6,d5,Ke5,Re7+,Kf6,Re4,Nb7,Rd4,Ke5,f3,Nc5,b4,Nxa4,bxa5,Nc3,Bc4,bxa5,Kf2,Nxd5,Re4+,Kf6,Rd4,Ke5,Rd3,Nb4', 'f4+,gxf4,exf4+,Kxf4,Rxd6', 'https://lichess.org/training/fRklX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frKSI', 'Classical', 'Tricktail', 2060, 'dukeblanc', 1949, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,d5,Nc3,Be7,Bb5,a6,Ba4,Nf6,Ne5,Qc7,exd5,Nxd5,Nxd5,exd5,Qf3,Be6,Bf4', 'Qa5+,Bd2,Qxa4', 'https://lichess.org/training/frKSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frLUC', 'Rapid', 'Braindrain', 1754, 'sudipratikno', 1765, 'e4,e5,Nf3,d6,d4,exd4,c3,dxc3,Bc4,h6,Qb3,Be6,Bxe6,fxe6,Qxe6+,Qe7,Qc8+,Qd8,Qxb7,Nd7,Nxc3,Ngf6,O-O,Be7,Be3,O-O,Nd5,Nxd5,Qxd5+,Rf7,e5,Nxe5,Nxe5,dxe5,Rad1,Bd6,Bc5,Rb8,b3,Rb5,Qxe5,Rxc5,Qxc5,Qh4,Rxd6,cxd6,Qxd6,Qg4,Qb8+,Kh7,Qb5,Rd7,h3,Qd4,Qf5+,g6,Qc2,h5,a3,Rd5,Qc4,Qe5,Rc1,Kh6,Qc7', 'Rd1+,Rxd1,Qxc7', 'https://lichess.org/training/frLUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Frmnq', 'Rapid', 'johnbutton65', 1853, 'Samuelf89', 1837, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Bd6,d4,exd4,Nxd4,c5,Nf3,Bg4,O-O,Qd7,Re1,O-O-O,e5,Bxf3,gxf3,Be7,Qxd7+,Rxd7,Bf4,f6,e6,Rd8,Rad1,Rxd1,Rxd1,h5,Rd7,g5,Bxc7,Rh7,Ba5,Nh6,Nd5,Nf5,Kf1,Rg7,Ke2,Nd4+,Kd3,Nc6,Bb6', 'Ne5+,Ke4,Nxd7,exd7+,Kxd7', 'https://lichess.org/training/Frmnq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FRNyy', 'Blitz', 'Handusha', 1549, 'Comrade_Yoza', 1539, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Bd2,Nge7,e3,dxe3,Bxe3,Qxd1+,Kxd1,b6,Nc3,Bb7,Kc2,O-O-O,Be2,Ng6,Ng5,Ncxe5,Rhd1,Rxd1,Rxd1,Bd6,f4,Nd7,Nxf7,Rf8,Nxd6+,cxd6,g3,Nc5,b4,Ne4,Nxe4,Bxe4+,Bd3,Bxd3+,Rxd3,Kc7,Kc3,Ne7,c5,dxc5,bxc5,Rc8,cxb6+,Kb7+,Kb4,Nc6+,Ka4,axb6,Rd7+,Ka6,Rxg7,b5+,Ka3,Na5,Bg1,Ra8,Rxh7,Nc4+,Kb3,Ka5,f5,Nd2+,Kb2,Nc4+,Kc3,Rc8,f6,Ne5+,Kb3,b4,f7', 'Rc3+,Kb2,Nd3+,Ka1,Rc1#', 'https://lichess.org/training/FRNyy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRO1a', 'Classical', 'SKAKI-GSF', 1987, 'Civita', 2026, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,e4,Ne2,a6,Bxc6+,bxc6,O-O,Bg4,h3,Bh5,Qe1,Bd6', 'Bxg7,Qg5,Bxh8', 'https://lichess.org/training/fRO1a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fro9u', 'Blitz', 'lactionsamba', 2391, 'raamin1', 2239, 'e3,e5,Nc3,d5,b3,d4,exd4,exd4,Nce2,Bc5,Nf3,Nf6,g3,Ne4,d3,Bb4+,Nd2,Nc3,Nxc3,Bxc3,Rb1,O-O,Bg2,Re8+,Kf1,Qe7,Ne4,Ba5,Bf4,Nc6,h4,f5,Ng5,Be6,Nxe6,Qxe6,Kg1,h6,Kh2,Qe2,Bf3,Qxf2+,Kh3,g5,hxg5,hxg5,Bxg5,Kg7,Bh4,Ne5,Bh5,Rh8,Rf1,Qe3,Rxf5,Raf8,Rg5+,Kf6,Rg6+,Kf7,Qf1+,Ke8,Rg7+,Rxh5', 'Re7+,Kd8,Qxf8#', 'https://lichess.org/training/fro9u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Frodw', 'Rapid', 'unre17', 2059, 'ifte', 2073, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5c3,Nf6,Bd3,h6,Nd5,Be7,Nbc3,O-O,Be3,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/Frodw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FROFe', 'Rapid', 'N4sse', 1723, 'scacchituoiV2', 1772, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,g6,Nf3,Bg7,Bc4,Nc6,Bf4,Nf6,O-O,O-O,Rc1,Nh5,Be3,d6,Re1,Bg4,h3,Bxf3,Qxf3,Ne5,Qe2,Nxc4,Qxc4,Rc8,Qb5,b6,Nd5,Nf6', 'Rxc8,Qxc8,Nxe7+,Kh8,Nxc8', 'https://lichess.org/training/FROFe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRpfs', 'Blitz', 'CarlosDaniel31', 2063, 'FM Charly_Charly1', 2408, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Nc3,Bg4,Be2,Bb4,O-O,Nge7,Re1,Bxc3,bxc3,O-O,Bg5,f6,Bf4,Qd7,h3,Bf5,Bd3,Rfe8,Bxf5,Nxf5,Qd3,Nd6,Bxd6,Qxd6,c4,g6,cxd5,Qxd5,Rab1,b6,a3,Rad8,c3,Na5,Nd2,c5,a4,Rxe1+,Rxe1,cxd4,cxd4,Qxd4', 'Re8+,Rxe8,Qxd4', 'https://lichess.org/training/fRpfs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRPrS', 'Blitz', 'FM Kiezking', 2403, 'Okanchess', 2255, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nf5,Nf6,Nxg7+,Kf8,Bh6,Bxf2+,Ke2,Kg8,Kxf2,Nxe4+,Kg1,Qh4,Qf3,Qxh6,Qxe4,Qxg7,Nc3,d6,Rd1,Be6,Bc4,Re8,Bxe6,fxe6,g3,Qf6,Kg2,Ne5,Rhf1,Qg7,Ne2,h5,Nf4,h4,Qxb7,hxg3,hxg3,Ng4,Nxe6,Rxe6', 'Qc8+,Kh7,Qxe6', 'https://lichess.org/training/fRPrS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Frqe9', 'Rapid', 'sea_wind', 1609, 'maikkel', 1646, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,Nc3,e6,O-O,Nf6,Nxc6,bxc6,Ba6,Be7,Bf4,e5,Bg5,O-O,f4,Ne8,Bxe7,Qxe7,Bc4,Nf6,fxe5,dxe5,Qd3,Ng4,h3,Qc5+,Kh1,Nf2+,Rxf2,Qxf2,Qxd7,Rad8,Qxc6,Rd2,Bf1,Rfd8,Qc4,h6,Rd1', 'Rxd1,Nxd1,Rxd1', 'https://lichess.org/training/Frqe9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Frr0D', 'Rapid', 'ColonialDisaster', 2077, 'Edwin2000', 1862, 'f4,d5,Nf3,Nc6,c3,Nf6,e3,Bf5,b4,e6,d3,Be7,b5,Nb8,Be2,c6,O-O,O-O,a4,a5,Ba3,Nbd7,Bxe7,Qxe7,Qd2,Nc5,Ra3,Rfd8,h3,h5,bxc6,bxc6,Ne5,Qc7,g4,hxg4,hxg4,Bh7,Qc1,Nfd7,Nxd7,Rxd7,Qc2,e5,Ra2,Qd6,Nd2,Qg6,Nb3,Nxb3,Qxb3,exf4,exf4,Qh6,Qb6,Re7,f5,Rae8,Bf3,Qf6,c4,dxc4,dxc4,Qe5,f6,gxf6,Re2,Qc3', 'Rxe7,Rxe7,Qd8+,Re8,Qxe8+', 'https://lichess.org/training/Frr0D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRr23', 'Rapid', 'baxi', 2113, 'BND', 2101, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,d4,Bd6,Rxd5,cxd5,Qf3,Be6,Nd2,Qh4,h3,Rae8,Nf1,Rd8,Be3,h5,Ng3,g6,Re1,Qe7,Ne2,f5,Nf4,Bxf4,Bxf4,g5,Qxh5,gxf4,Qg6+,Qg7,Qxe6+,Qf7,Bxd5,Rxd5,Qxa6,f3,gxf3,f4,Kh2,Rg5,Qh6,Rg6,Qh4,Qf6,Qxf6,Rfxf6,h4,Rf5,b3,Rc6,Rc1,Rd5,Kh3,Rxd4', 'Rg1+,Kf7,cxd4', 'https://lichess.org/training/fRr23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FrSAn', 'Rapid', 'ruslananikin', 1586, 'swagfluff', 1599, 'e4,e5,Nf3,Nc6,Bb5,d5,exd5,Qxd5,Nc3,Qd6,O-O,f5,Re1,Nf6,Nxe5,a6,Nc4+,Qe6,Rxe6+,Bxe6,Bxc6+,bxc6,d3,O-O-O,Qf3,Bd5,Nxd5,cxd5,Qxf5+,Kb8,Na5,Rd6,Be3,Be7,c4,d4,Qf3,Kc8,Bf4,Rb6,Qa8+,Rb8,Qxa6+,Kd7,Qc6+,Kd8,Qxc7+,Ke8,Re1,Nd5,Qc6+,Kf8,Qxd5,Rxb2,Nc6,h6,Rxe7', 'Rb1+,Bc1,Rxc1+,Re1,Rxe1#', 'https://lichess.org/training/FrSAn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FRSIo', 'Blitz', 'OscarFranco', 1929, 'xorst', 1944, 'e4,e5,Nf3,d6,d4,Qe7,dxe5,dxe5,Nc3,c6,Bc4,Bg4,O-O,Qc7,Be3,Nf6,a3,Nbd7,h3,Bh5,g4,Bg6,Bd3,Bc5,Qe2,O-O,Nh4,Bxe3,Qxe3,b6,Nf5,Bxf5,gxf5,Nh5,Ne2,Nc5,Qg5,Nxd3,cxd3,g6,Ng3,Nxg3,Qxg3,Qe7,Kh2,Qf6,f4,exf4,Qxf4,Qxb2+,Kh1,Rad8,f6,Kh8,Rad1,Qxa3,Qh6,Rg8,Rf4,Rxd3,Rxd3,Qxd3', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/FRSIo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRSsy', 'Blitz', 'paddymaffy', 1570, 'blitzproof', 2008, 'e4,c5,Nf3,d6,Be2,Nc6,d3,g6,c4,Bg7,O-O,e6,Nc3,Nge7,Bd2,O-O,a3,a6,Qc1,Re8,Bh6,Bh8,Bg5,Bd7,h4,Qc7,h5,Rab8,hxg6,hxg6,g3,b5,b3,bxc4,bxc4,Rb3,Bd2,Reb8,Kg2,Nd4,Nxd4,Bxd4,Rh1,d5,Qg1,Bxc3,Bxc3,Rxc3,Qh2,Qe5,Qh4,Kf8,Rh3,Rb2,Bf3,dxe4,Bxe4,Bc6,Bxc6,Nxc6,Rah1,Rcc2,Rf1,Nd4', 'Qd8+,Kg7,Qh8#', 'https://lichess.org/training/fRSsy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frT8v', 'Rapid', 'amfathi', 1667, 'sefosse', 1610, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Nf6,d3,Nc6,Re1,Na5,Bb3,Nxb3,axb3,Be7,Be3,a6,Qd2,Ng4,Nc3,c6,b4,Bd7,Na4,Nxe3,Qxe3,Bg4,c3,O-O,Nd2,Bg5,f4,Bxf4,Qf2,f5,Nc4,fxe4,g3,Bg5,Qc2,exd3,Qxd3,Bf5,Qxd6,Qxd6,Nxd6,Bc2,Nxb7,Bxa4,Rxa4,Bf6,Nc5,Rfd8,Rxa6,Rxa6,Nxa6,Rd2,Rb1,e4,Nc5,e3,Na4,e2,Kf2', 'Rd1,Kxe2,Rxb1', 'https://lichess.org/training/frT8v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frt9O', 'Rapid', 'scartys', 1724, 'laburle', 1834, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Nf3,O-O,Bd3,Nc6,c3,Ne7,O-O,Nd5,Qc2,h6,Ne5,Nf4,Be4,c6,Rad1,Qe7,g3,Nh3+,Kg2,Ng5,Bd3,g6,h4,Nh7,h5,Qg5,hxg6,fxg6,Bxg6,Qe7,Rh1,Qg7,Qd2,Rf6,Bf7+,Rxf7,Nxf7,Kxf7,Qxh6,Qxh6,Rxh6,Nf6,Rh8,b6,Rdh1,c5,dxc5,Bb7+,f3,Rxh8,Rxh8,bxc5,Rb8,Bd5,b3,c4,bxc4,Bxc4,Rb7+,Kg6,Rxa7,Nd5,Ra4,Bb5,Rg4+,Kf5,Kf2,Nxc3,a3,Nd5,a4,Ba6,Rg8,Nb4,g4+,Ke5,Rd8,Nd3+,Ke3,Nc5,f4+,Kf6,g5+,Ke7,Ra8,Bc4,a5,Bd5,Ra7+,Kd6,g6,Nd7,Kd4,Nb8,Rh7,Nc6+,Ke3,Nxa5,g7,e5,fxe5+,Kc5,Kf4,Nc6,Kf5,Ne7+,Kg5,Kd4,Kf6,Ng8+,Kf5', 'Be4+,Kf4,Bxh7', 'https://lichess.org/training/frt9O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRUhU', 'Blitz', 'Ulo', 1745, 'Hasan_Samet', 1749, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bb4+,Nc3,Bxc3+,bxc3,Qe7,Qd5,f6,exf6,Nxf6,Qd2,d6,e3,Ne5,Be2,Be6,O-O,Nxc4,Bxc4,Bxc4,Rfb1,O-O-O,Rb4,d5,Rab1,Ne4,Qc2,b6,a4,g5,Be5,Rhg8,Bd4,Rdf8,Ne5,Rxf2,Qc1,Kb7,Nxc4,dxc4,a5,Rgf8,Qa3,Qf7,Qa1,Nd2,axb6,Rf1+,Rxf1', 'Qxf1+,Qxf1,Rxf1#', 'https://lichess.org/training/fRUhU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fRuQi', 'Blitz', 'WFM galagcm', 2234, 'xergreater', 2259, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,Bg7,Be2,O-O,O-O,Bg4,Be3,Nc6,Qd2,e5,d5,Bxf3,Bxf3,Nd4,Bxd4,exd4,Qxd4,Ng4,Qd2,Bh6,Qd1,Ne5,Be2,f5,exf5,Rxf5,Nb5,Qe7,Nd4,Rf7,Bg4,Nxg4,Qxg4,Re8,Ne6,Qf6,b3,c6,c4,Bd2,Rad1,Bc3,Rd3,Be5,h4,h5,Qe4,cxd5,cxd5,Qf5,Qc4,Qf6,Ng5,Qf4,Nxf7', 'Qh2#', 'https://lichess.org/training/fRuQi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FrW42', 'Rapid', 'Chessman3337777', 980, 'Yuyo845', 942, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Nf6,Ng5,h6', 'Nxf7,Qd7,Nxh8', 'https://lichess.org/training/FrW42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frwBi', 'Rapid', 'MiniHuman', 2509, 'achaemenian225', 2021, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,c4,Nf6,Nc3,Nc6,O-O,g6,d4,cxd4,Nxd4,Bg7,Nde2,O-O,f3,a6,a4,Qc7,Be3,Na5,b3,e6,Rb1,Rfd8,Qd2,b6,Rfd1,Nb7,h3,Rab8,Bg5,h6,Bxh6,Kh7,Bxg7,Kxg7,Nd4,Ra8,Qe3,Rab8,f4,Re8,e5,dxe5,fxe5,Nd7,Nf3,Nbc5,b4,Nb7,Qf4,Rbc8,Ne4,Rf8,Rd4,Rcd8,Rbd1,a5,Nf6,Nb8,Qh6+,Kxh6', 'Rh4+,Kg7,Rh7#', 'https://lichess.org/training/frwBi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('frYVA', 'Rapid', 'hakangokcen94', 1862, 'Mile933', 1749, 'f4,d5,Nf3,g6,c3,e6,d4,Nf6,Nbd2,Bg7,h3,Nc6,e3,Na5,b4,Nc4,Nxc4,dxc4,Bxc4,O-O,g4,Ne4,Qd3,Nd6,Bb3,b6,h4,Bb7,Kf2,Bxf3,Kxf3,c5,bxc5,bxc5,Ba3,cxd4,cxd4,Rc8,Rac1,Rxc1,Rxc1,Qa8+,e4,Qb8,e5,Nb5,Bxf8,Bxf8,Rb1,Na3,Rb2,Qb7+,d5,a5,Rh2,exd5,Qxd5,Qb4,h5,Qc3+,Kg2,Qb2+,Kh3,Qc3+,Kh4,Qe1+,Kg5,h6+,Kf6,Bg7+,Ke7,Qb4+,Qd6', 'Bf8+,Kd7,Bxd6', 'https://lichess.org/training/frYVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FRYxL', 'Classical', 'Ace_Rothstein', 2131, 'papimate', 2064, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Bd7,Bd3,Bc6,Nf3,Nd7,O-O,Ngf6,Bg5,Be7,Bxf6,Nxf6,Nxf6+,Bxf6,c3,O-O,Qc2,Bxf3,Bxh7+,Kh8,gxf3,g6,Bxg6,fxg6,Kh1,Rg8,Rg1,Kh7,Rg3,Qd5,Rag1,Qf5,Qa4,Bh4,Rg4,Qxf3+,R1g2,g5,Qd7+,Rg7', 'Rxh4+,Kg8,Qxe6+', 'https://lichess.org/training/FRYxL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FrZar', 'Rapid', 'orinharris', 1796, 'italyrock', 1812, 'e4,b6,d4,e6,c4,Bb7,Bd3,c6,Nf3,d5,cxd5,cxd5,e5,Ne7,O-O,Ng6,Nc3,Be7,b3,O-O,a4,Nc6,Ba3,Bxa3,Rxa3,a6,Qe2,Nb4,Bxg6,fxg6,Na2,a5,Nxb4,axb4,Ra2,Ba6,Qd2,Bxf1,Kxf1,b5,Qxb4,bxa4,Rxa4,Rxa4,bxa4,Qc7,a5,Qc4+,Qxc4,dxc4,Nd2,Rc8,Ke2,c3,Nb3,Rb8,Nc1,Ra8,Kd3,Rxa5,Kxc3,Kf7,Nd3,Ra2,Kb3,Rd2,Kc3,Rd1,Kc2,Ra1,Kb2,Ra5,g3,Ke7,Kc3,h6,Kb4,Ra2,Kb3,Ra7,Kc4,Kd8,Nc5,Ke7,h4,Ra2,Nd3,Kd7,Kb3,Ra7,Nf4,g5,hxg5,hxg5,Nh3,g4,Nf4,Rb7+,Kc3,g5,Ng2,Rb1,Kd2,Rg1,Ne3,Ra1,Nxg4,Kc6,Ke3,Re1+,Kd2,Ra1,Ke3,Ra3+,Ke2,Kd5,Ne3+,Ke4', 'f3+,Kxd4,Nc2+,Kxe5,Nxa3', 'https://lichess.org/training/FrZar');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FS4Ci', 'Blitz', 'Novatochess28', 2062, 'acewall', 1919, 'd4,d5,Nf3,Nf6,Bf4,e6,Nc3,Nc6,e3,Bd6,Bb5,Bxf4,exf4,Bd7,O-O,O-O,Re1,h6,a3,a6,Bd3,Ne7,b4,Ng6,g3,c6,Ne5,Qc7,Qf3,Nxe5,fxe5,Ne8,Qh5,b6,g4,Qd8,f4,f6,Qg6,f5,gxf5,exf5,Kh1,Qe7,Rg1,Qf7,Qxh6,c5,bxc5,bxc5,Rg3,cxd4,Ne2,Bb5,Nxd4,Bxd3,cxd3,Rc8,Rag1,Rc2,Nxf5,Qxf5', 'Rxg7+,Nxg7,Qxg7#', 'https://lichess.org/training/FS4Ci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fs4MD', 'Rapid', 'Hades532', 1953, 'kaduns', 1967, 'e4,e6,d4,c6,c4,d5,e5,Qb6,Nc3,Bb4,Nf3,Ne7,Be2,c5,O-O,Bxc3,bxc3,Nbc6,Ba3,cxd4,cxd4,O-O,cxd5,exd5,Bc5,Qc7,Rc1,Bg4,Qd3,h6,Bd6,Qd7,Rfe1,Rfe8,Nd2,Bf5,Qe3,Be6,Nb3,Nf5,Qd2,Nxd6,exd6,Qxd6,Nc5,b6,Nxe6,Rxe6,Bb5,Na5,Rxe6,Qxe6,Re1,Qd6,Qd3,Rc8,Qh3,Rd8,Qf5,Nc4,Be8,Qc7,Ba4,a6,Bc2,g6,Qf6,Qd6,Qh4,Kg7,g3,Qf6,Qg4,Nd2,Kg2,h5,Qe2,Nc4,Qd3,b5,Rf1,Rd6,f4,Re6,Rf3,Qe7,f5,Ne3+,Kh3,Nxf5,Rxf5,gxf5,Qxf5,Rf6', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/fs4MD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fs51Q', 'Blitz', 'goulgourdin', 1891, 'ThomasVK', 1912, 'a4,e5,g3,d5,f3,Nc6,Nh3,h6,Nf2,f5,Bg2,Nf6,O-O,e4,f4,g5,e3,gxf4,exf4,h5,h4,Ng4,Nh3,Be7,Ng5,Bxg5,hxg5,h4,Bh3,hxg3,Bxg4,fxg4,Kg2,Qd6,d4,Bd7,c3,O-O-O,Rh1,Ne7,Kxg3,Nf5+,Kf2,g3+,Kg2,e3,Qf3,Rxh1,Kxh1,Rh8+,Kg1,Qe6,Na3,e2,Bd2,Rh2,Re1,Bxa4,c4,dxc4,d5,Qe7,Nxc4,Bd1,Ne5,Qc5+,Be3,Qxe3+,Qxe3,Nxe3,g6,Nc2,g7,b6,g8=Q+,Kb7,d6,Nxe1,Qd5+,c6,Qxc6+,Ka6,d7,Rg2+,Qxg2,Nxg2,d8=Q', 'e1=Q+,Kxg2,Qf2+,Kh3,Qh2#', 'https://lichess.org/training/fs51Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fS7cL', 'Rapid', 'Veronika26rus', 1799, 'borrom', 1975, 'e4,d6,d4,Nf6,Nc3,g6,e5,dxe5,dxe5,Qxd1+,Nxd1,Ng4,f4,Bg7,h3,Nh6,Nc3,c6,Be3,Nf5,Bf2,O-O,g4,Nh6,g5,Nf5,O-O-O,b6,h4,Bb7,Bg2,f6,Nb5,Na6,Nd4,Nxd4,Bxd4,Rad8,exf6,exf6,gxf6,Bxf6,Bxf6,Rxd1+,Kxd1,Rxf6,Nh3,Bc8,Rf1,Nb4,Kc1,Nxa2+,Kb1,Nb4,c3,Nd5,Rf3,Bxh3,Bxh3,Rxf4', 'Be6+,Kg7,Bxd5', 'https://lichess.org/training/fS7cL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fs7kv', 'Blitz', 'NM EGNfanclub', 2344, 'FM DmitryMazanchenko', 2314, 'e4,c5,Nc3,g6,f4,Bg7,Nf3,d6,Bc4,Nf6,O-O,Bg4,d3,Nc6,h3,Bxf3,Qxf3,Nd4,Qf2,O-O,Be3,Rb8,Bxd4,Ng4,Bxg7,Nxf2,Bxf8,Nxh3+,gxh3,Qxf8,Nd5,e6,Nf6+,Kg7,Nd7,Qd8,Nxb8,Qxb8,Kg2,b5,Bb3,a5,c3,a4,Bc2,b4,c4,a3,b3,Qd8,Rae1,Qf6,Bd1,Qd4,Rf3,Qb2+,Re2,Qb1,Rf1,Qxd3,Rfe1,h5,Bc2,Qd4,Rd1,Qf6,Kg3,e5,Rf1,exf4+,Rxf4,Qg5+,Kf3,Qg1,e5,Qh1+,Kg3,Qg1+,Rg2,Qe3+,Rf3,Qxe5+,Kf2,Qb2,Kg1,Qa1+,Kh2,Qe5+,Kg1,d5,cxd5,Qxd5,Rd3,Qf5,Rd6,Qxh3,Bxg6,fxg6,Rdxg6+,Kf7,Rg7+,Ke6,Re2+,Kf6,Rgg2,Qc3,Ref2+,Ke5,Re2+,Kf4,Ref2+,Ke4,Re2+,Kd3,Ref2,Qe1+,Kh2,Qe5+', 'Rg3+,Qxg3+,Kxg3', 'https://lichess.org/training/fs7kv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fs9Ht', 'Rapid', 'Moseaf83', 1971, 'cucux', 2096, 'd4,Nf6,c4,e6,a3,c5,d5,exd5,cxd5,Bd6,Nc3,O-O,Nf3,Na6,e4,Re8,Bxa6,bxa6,Bg5,h6,Bh4,Nxe4,Bxd8', 'Nxc3+,Kd2,Nxd1', 'https://lichess.org/training/fs9Ht');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fsCFa', 'Blitz', 'Emircan07', 2015, 'Hikari-Kun', 2429, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Nb5,a6,N5c3,d5,O-O,d4,Ne2,Bd6,f4,Bc5,Nd2,O-O,f5,exf5,exf5,Ne5,Ng3,Bd7,Nde4,Nxd3,cxd3,Be7,Qf3,Bc6,Nxf6+,Bxf6,Qg4,Be5,Nh5,Kh8,f6,g6,h4,Qd5,Bh6,Rfe8,Ng7,Red8,h5,Rd6,hxg6,fxg6,Nf5,Rxf6,Bg7+,Kg8,Bxf6,Bxf6,Nh6+,Kg7,Rxf6,Kxf6,Rf1+,Kg7,Rf7+,Kxh6,Qh4+,Qh5,Qf4+,g5,Qf6+,Qg6,Qf3,Rg8', 'Qh3+,Qh5,Rxh7+,Kxh7,Qxh5+', 'https://lichess.org/training/fsCFa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fsd8b', 'Rapid', 'borokshonov59', 1847, 'savetiger', 1857, 'd4,d5,c4,Bf5,Nc3,Nf6,f3,e6,Bg5,Be7,c5,c6,e3,O-O,h4,b6,g4,Bg6,h5,h6,Bxf6,Bxf6,hxg6,fxg6,b4,bxc5,bxc5,e5,Be2,exd4,exd4,Nd7,Nh3,Nxc5,Qd2,Bh4+,Kf1,Ne6,Kg2,Qc7,Rh2,Bg3,Rhh1,Rae8,Raf1,g5,Bd1,Bf4,Qd3,Qb6,Bc2,Qxd4,Qh7+,Kf7,Bg6+,Ke7,Ne2,Qb2,Re1', 'Rh8,Qxh8,Rxh8', 'https://lichess.org/training/fsd8b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fsdmp', 'Rapid', 'peko011', 1818, 'amirking8', 1898, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,c6,h3,e6,Nge2,Bd6,Bg5,O-O,O-O-O,Nbd7,Kb1,b5,Ne4,Be7,N2c3,Bb7,Bd3,b4,Nxf6+,Bxf6,Bxf6,Nxf6,Ne4,c5', 'Nxf6+,Qxf6,Qxb7', 'https://lichess.org/training/fsdmp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fsDvg', 'Blitz', 'ORLANDO25', 1647, 'tersomerso', 1670, 'e4,e5,Bc4,Nf6,d3,h6,Nf3,d6,O-O,Bg4,Nbd2,Nc6,Qe1,Nd4,Nxd4,exd4,e5,dxe5,Qxe5+,Be7,Re1,Be6,Bxe6,fxe6,Qxe6,Qd6,Qxd6,cxd6,Ne4,Nxe4,Rxe4,Kd7,Rxd4,Rae8,Be3,Bf6,Rb4,b6,c3,Kc7,g3,Re6,a4,Rhe8,a5,Bg5,axb6+,axb6,Bxb6+,Kd7,Ra7+,Kc6,Rc7+,Kd5,c4+,Ke5,Rxg7,Kf6,Bd4+,Kf5,h3,Bf6,g4+,Kf4,Bxf6,Rxf6,c5+,Kf3,c6,Re1+,Kh2,Kxf2,g5,Rf3,gxh6', 'Rh1+,Kxh1,Rxh3#', 'https://lichess.org/training/fsDvg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FsE04', 'Blitz', 'imwillbeursisterffs', 1820, 'vdm2017', 1799, 'Nf3,Nc6,e4,e5,Bb5,Qf6,c3,Bc5,Bxc6,dxc6,d4,exd4,cxd4,Bb6,Bg5,Qg6,Qd3,h6,Bh4,Qxg2,Rg1,Qh3,Rxg7,Bg4,Qa3,Qxf3', 'Rxg8+,Kd7,Qe7#', 'https://lichess.org/training/FsE04');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSeC8', 'Rapid', 'TDUB', 1820, 'DontMess610', 1788, 'e4,e5,Nc3,Nf6,f4,Nc6,fxe5,Nxe5,Nf3,Nxf3+,Qxf3,Bc5,Bc4,O-O,d3,d6,h3,Re8,Bg5,h6,Bxf6,Qxf6,Qxf6,gxf6,O-O-O,f5,Rdf1,Be6,Nd5,Rec8,Ne7+,Kf8,Bxe6,Kxe7,Bxc8,Rxc8,Rxf5,b5,Rhf1,Rf8,c3,a5,d4,Bb6,Kc2,b4,Kd3,f6,R1f3,c5,Rg3,cxd4,Rg7+,Ke6,cxd4,a4,Rb5,Bd8,Rxb4,f5,Rg6+,Kf7,Rxd6,fxe4+,Kxe4,Re8+,Kd5,Be7,Rd7,Kf6,Rb6+,Kf7,Ke5,Rg8,g4,h5,Rf6+,Ke8,Re6,Kxd7,gxh5', 'Rg5+,Kf4,Kxe6', 'https://lichess.org/training/FSeC8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSedY', 'Blitz', 'Mychessme', 2108, 'Prince_of_Fibonacci', 2113, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,d6,Nxd4,Be7,Nc3,O-O,h3,Bd7,Re1,Ne5,Bf1,c6,f4,Ng6,Nf5,Bxf5,exf5,Nh8,g4,d5,g5,Bc5+,Kh2,Nd7,Be3,Qc7,Qd2,Bxe3,Qxe3,Rfe8,Qxe8+,Rxe8,Rxe8+,Nf8,Kg3,Qd7,Rae1,Qxf5,Bd3,Qd7,h4,Qd6,h5,g6,h6,f6,gxf6,Nf7,Ra8,Nxh6,Ree8,Kf7,Rxf8+,Qxf8,Rxf8+,Kxf8,Kh4,Kf7,Kg5,Ng8,Ne2,h6+,Kh4,Kxf6,Nd4,Ne7,c4,g5+,fxg5+,hxg5+,Kg4,dxc4,Bxc4,b5,Bb3,Ng6,Nf3,Ne5+,Kg3,Nxf3,Kxf3,c5,Kg4,a5,Bc2,c4,a3,b4,axb4,axb4,Kg3,c3,b3,Ke5,Bb1', 'Kd4,Kf2,g4,Kg3,Ke3', 'https://lichess.org/training/FSedY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSEMQ', 'Rapid', 'Siavash-ir', 1606, 'mihatel', 2068, 'e4,Nf6,Nc3,e5,Bc4,Bc5,d3,c6,Bg5,h6,Bd2,Ng4,Qxg4,Qf6,Qe2,b5,Bb3,a5,a3,d6,Nf3,O-O,Be3,Bg4,Bxc5,dxc5,Nd1,Rd8,Ne3,Bxf3,Qxf3,Qxf3,gxf3,a4,Ba2,Ra7,Rg1,Kh7,Nf5,g6,Ne3,Re7,Ke2,Nd7,c4,b4,axb4,cxb4,b3,a3,h4,Nc5,Rad1,Ne6,Nc2,Nf4+,Ke3,c5,Ne1,Red7,Bb1,f6,Ng2,a2,Bc2,a1=Q,Rxa1', 'Rxd3+,Bxd3,Rxd3#', 'https://lichess.org/training/FSEMQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FseQD', 'Classical', 'Katrinaaa', 1971, 'Volkanov_Sergey', 1970, 'd4,d5,Nf3,c5,e3,Nf6,b3,e6,Bb2,Nc6,Bd3,Nb4,O-O,Nxd3,cxd3,b6,Nbd2,Ba6,Qc2,cxd4,Bxd4,Rc8,Qb1,Bb4,a3,Bd6,b4,O-O,b5,Bb7,Ne5,Nd7,f4,f6,Ng4,h5,Nf2,e5,fxe5,Bxe5,Bxe5,fxe5,d4,e4,Qb3,Nf6,Nh3,Ng4,Nf4,Qg5,Nxe4,Qh6,Nxd5,Kh8,Ng3,Bxd5,Qxd5,Qxe3+,Kh1,Nf2+,Rxf2,Qxf2,Qxh5+,Kg8,Qg6,Rf6,Qg4,Rc2,Rg1,g6,Ne4', 'Qxg1+,Kxg1,Rc1+,Qd1,Rxd1#', 'https://lichess.org/training/FseQD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FsErH', 'Rapid', 'MuhamedBunjaku', 2202, 'truskotrub', 2248, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Bb4+,c3,Bd6,Bc4,Bc7,Nd2,h5,N2f3,Nf6,Bd3,d5,Nxc6,bxc6,e5,Ng4,Bf4,f6,Bg6+,Kd7,Qe2,a5,O-O-O,Ba6,Qe3,Nxe3,fxe3,Be2,Rd2,Bxf3,gxf3,fxe5,Bg3,Bb6,Bxe5,Qg5,f4,Qxg6,Re1,Bxe3,Rxe3,Qg1+,Kc2,Qxe3,c4,Qe4+,Kd1,Qb1+,Ke2,Rh7,cxd5,Rc8,dxc6+,Kxc6,Rd6+,Kb7,Rd7+,Rc7,Rxc7+,Ka6,Rc6+,Kb7,Rc7+,Kb8', 'Rc1+,Kb7,Rxb1', 'https://lichess.org/training/FsErH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSfgP', 'Rapid', 'kollar44', 1655, 'Dael74', 1660, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,c4,Bb4+,Bd2,Qe7+,Be2,Ne4,Nc3,O-O,O-O,Nxd2,Qxd2,dxc4,Bxc4,Nc6,a3,Bxc3,bxc3,Bg4,Rfe1,Qf6,Ne5,Nxe5,Rxe5,Rae8,Rae1,Qc6,Bd5,Qd7,h3,Be6,Bxe6,Rxe6,d5,Rfe8,Rxe6,fxe6,c4,exd5,Rxe8+,Qxe8,Qxd5+,Kh8,Qxb7,Qe1+,Kh2,Qe5+,g3,h6,Qxa7,Qe2,Qc5,Qc2,Kg2,Qe4+,Kh2,Qc2,h4,Qa2,Kh3,Qc2,f4,Qd3,a4,Qf1+,Kg4,Qe2+,Kf5', 'Qh5+,Ke4,Qxc5', 'https://lichess.org/training/FSfgP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fsFWM', 'Blitz', 'FraDoNicks', 2721, 'GM cutemouse83', 2890, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd2,d5,Nf3,c5,a3,Bxc3,Bxc3,Ne4,Rc1,cxd4,Nxd4,Nxc3,Rxc3,dxc4,Bxc4,Bd7,O-O,Nc6,Nb5,Ne5,Nd6,Bc6,e4,Qe7,f4,Nxc4,Rxc4,e5,fxe5,Qxe5,Rd4,Rad8,Re1,Rd7,Re2,Rfd8,Red2,g6,h3,h5,Kh1,Kh7', 'Nxf7,Rxd4,Nxe5', 'https://lichess.org/training/fsFWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSh11', 'Classical', 'Jikijam', 1639, 'Cagan013', 1682, 'd4,d5,c4,Nf6,Nc3,Bf5,Nf3,Nc6,e3,e6,Qb3,Nb4,cxd5,Nc2+,Kd2,Nxa1,Qxb7,exd5,Bd3,Bxd3,Kxd3,Ng4', 'Qc6+,Qd7,Qxa8+', 'https://lichess.org/training/FSh11');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fsHwM', 'Rapid', 'arman-hn', 1522, 'Eltropicale', 1606, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,a6,Bxc6,dxc6,d3,Bc5,Qe2,O-O,Be3,b6,Bxc5,bxc5,Nxe5,Qd6,Nc4,Qd4,Ne3,c4,Nxc4,Ng4,Ne3,Nxe3,fxe3,Qb4,Rb1,Rb8,a3', 'Qxc3+,bxc3,Rxb1+,Kd2,Rxh1', 'https://lichess.org/training/fsHwM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FsJw2', 'Rapid', 'deku_nut', 1808, 'DeeMON1983', 1812, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,b5,Qd3,Bb7,Nd5,Nbd7,Bg5,Be7,Nxe7,Qxe7,O-O-O,h6,Bxf6,Nxf6,f3,Rd8,g4,O-O,h4,d5,Qe3,dxe4,g5,exf3,gxf6,Qxf6,Rxd8,Rxd8,Bd3,f2,Rd1,e4,Bf1,Rxd1+,Kxd1,Qxh4,Nc5,Qh1,Ke2,Bc8,Qxe4', 'Qh5+,Kxf2,Qxc5+', 'https://lichess.org/training/FsJw2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSjXI', 'Blitz', 'GM crackcubano', 2624, 'IM ivan124', 2682, 'Nf3,d5,c4,c6,d4,Nf6,e3,e6,Bd3,dxc4,Bxc4,Bd6,O-O,O-O,Nbd2,Nbd7,b3,e5,Bb2,Qe7,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Qxe5,Nf3,Qe7,Qd4,Bg4,Ne5,Rad8,Qf4,Be6,Rad1,Bd5,h3,Rfe8,Nf3,Bxc4,Qxc4,Ne4,Rd4,Rxd4,Qxd4,c5,Qa4,b6,Rd1', 'Nc3,Qd7,Nxd1', 'https://lichess.org/training/FSjXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fSKCR', 'Blitz', 'IM dragosdum', 2150, 'totoff', 2262, 'd4,e6,c4,Nf6,Nc3,Bb4,e3,c5,Bd3,Nc6,Ne2,cxd4,exd4,d5,cxd5,Nxd5,a3,Nxc3,bxc3,Bd6,O-O,O-O,Ng3,Qh4,Re1,f5,Qh5', 'Bxg3,Qxh4,Bxh4', 'https://lichess.org/training/fSKCR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSl7n', 'Rapid', 'farzadzoraghchi', 1773, 'hassaank91', 1753, 'e4,e5,Nf3,Bd6,Bc4,Nc6,d3,Qf6,Ng5,Nh6,O-O,Na5,Bb3,Nxb3,axb3,O-O,Nc3,Be7,Nd5,Qd6,Nxe7+,Qxe7,f4,exf4,Bxf4,d6,Bd2,Bg4,Qe1,f6,Nf3,Bxf3,Rxf3,Ng4,Qg3,Ne5,Rf5,Rf7,Raf1,Ng6,h4,d5,h5,Nf8,h6,g6,Rxd5,c6,Ra5,Nd7,Bc3,b6,Raf5,Raf8,Qc7', 'gxf5,Qg3+,Kh8', 'https://lichess.org/training/FSl7n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSmHt', 'Blitz', 'vaclovas', 1603, 'odranelc', 1583, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bf4,Bf5,Bc4,e6,Nf3,Bb4,O-O,O-O,Ne5,Nbd7,a3,Bd6,f3,c6,Ne4,Nxe4,fxe4,Bxe5,exf5,Bxf4,Rxf4,exf5,Rxf5,b5,Bb3,a5,Qf1,Qe7,Re1,Qd6,Bxf7+,Kh8,c3,h6,Bh5,Nf6,Bf3,Rac8,Rfe5,Rce8,Rxe8,Nxe8,Qd3,Nf6,Bd1,Qf4,Bc2,Qh4,Rf1,Kg8,Bb3+,Kh8,Qg6,Ng4,h3', 'Rxf1+,Kxf1,Qf2#', 'https://lichess.org/training/FSmHt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSmLA', 'Rapid', 'pakpepes', 1690, 'carterj79', 2006, 'e4,e5,c3,d5,exd5,Qxd5,Nf3,Bg4,Be2,e4,Nd4,Bxe2,Qxe2,Nf6,d3,Bd6,Nd2,O-O,O-O,exd3,Qxd3,Nc6,Qc2,Nxd4,cxd4,Qxd4,Nf3,Qe4,Qb3,Rae8,Be3,b6,Rfe1,Qb4,Qc2,Ng4,h3,Nxe3,Rxe3,Rxe3,fxe3,Re8,Ng5,g6,e4,Qd4+,Kh1,h6,Nf3,Qxe4,Qd2,Qe3', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/FSmLA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FsNIM', 'Blitz', 'Finneri', 1839, 'Thrud', 1794, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Bb4+,Nd2,Nc6,Nf3,Qe7,e3,Ngxe5,Nxe5,Nxe5,a3,Bd6,b4,c6,Be2,Ng6,Bxd6,Qxd6,O-O,O-O,Qc2,Qe5,c5,d5,Nb3,Bf5,Bd3,Bxd3,Qxd3,Rad8,Nd4,Qg5,Qe2,Ne5', 'f4,Qg4,fxe5,Qxe2,Nxe2', 'https://lichess.org/training/FsNIM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fSnmM', 'Blitz', 'Mehlass', 1756, 'AUSarge', 1788, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,d3,Bg4,h3,Bh5,g4,Bg6,Bg5,f6,Be3,h5,Nh4,Kf7,Nxg6,Kxg6,gxh5+,Rxh5,Nd2,Qd7,Qg4+,Rg5,Bxg5,Qxg4+,hxg4,Kxg5,f3,Ne7,Kf2,Rh8,Rh1,Rh6,Rxh6,gxh6,Rh1,Ng6,c4,Nf4,Ke3', 'Bc5+,d4,Bxd4#', 'https://lichess.org/training/fSnmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSnyM', 'Classical', 'eyeangel2', 2256, 'Appelle-Moi-Dieu', 2169, 'd4,Nf6,Nf3,g6,Nc3,d5,Bf4,Bg7,Qd2,O-O,O-O-O,a6,Ne5,b5,f3,Bb7,Bh6,Nfd7,h4,Nxe5,dxe5,c5,h5,Bxe5,Bxf8,Qxf8,Nxd5,Nc6,Nb6,Rd8,Nd7,Qg7,Nf6+,Qxf6', 'Qxd8+,Nxd8,Rxd8+,Kg7,h6#', 'https://lichess.org/training/FSnyM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSPa2', 'Rapid', 'MrMatic', 1608, 'Darko_OG', 1635, 'Nf3,d5,d4,c5,c4,dxc4,dxc5,Qxd1+,Kxd1,e6,e4,Bxc5,Bxc4,Bxf2,Nc3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,Rf1,Bc5,Bg5,O-O,Bxf6,Nxf6,Ke2,Rad8,Rad1,Rxd1,Rxd1,Bb4,Nb5,Nxe4', 'Rd4,Be7,Rxe4', 'https://lichess.org/training/FSPa2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fSphp', 'Rapid', 'sparkgg', 1645, 'ErannnTasciii', 1645, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,a6,d4,exd4,cxd4,Ba7,O-O,b5,Bb3,Nge7,Bg5,O-O,d5,Na5,d6,cxd6,Qxd6,Re8,Bd5,Bb8,Qb4,Nac6,Bxc6,dxc6,Nc3,Bd6,Qb3,Be6,Qc2,f6,Bh4,Bf4,Rad1,Qc7,g3,Bh3,gxf4,Qxf4,Qb3+,Kh8,Ne2,Qg4+,Ng3,Bxf1,Kxf1,Ng6,Nf5,Rxe4,Qf7,Qxf5,Rd7,Rg8,Ng5,Nxh4', 'Qxg8+,Kxg8,Rd8+,Re8,Rxe8#', 'https://lichess.org/training/fSphp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FsppP', 'Rapid', 'DebKBan', 1634, 'VivekanandaSj009', 1637, 'e4,b6,Nf3,Bb7,Nc3,a6,d4,g6,Bc4,Bg7,Ng5,e6,Qf3,Nh6,d5,O-O,O-O,Kh8,Qh3,Bf6,Nxe6,fxe6,Bxh6,Rg8,dxe6,dxe6,Bxe6,Bc8,Rad1,Bxe6,Qxe6,Qe7,Qd5,c6,Qb3,b5,Rfe1,Nd7,a4,Be5,Be3,Qh4,g3,Qh3,axb5,axb5,Qb4,Nf6,Qe7,Ng4,Qh4,Qxh4,gxh4,Nxh2,Kg2,Raf8,Ne2,Ng4,Nf4,Bxf4,Bxf4,g5,hxg5,Rxf4,Kg3,Rgf8,f3,Rxf3+,Kxg4', 'R8f4+,Kh5,Rh3#', 'https://lichess.org/training/FsppP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fSRcX', 'Classical', 'Muguna94', 1834, 'pugslybenny', 1917, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Be7,O-O,Nf6,d3,O-O,Nc3,Bg4,h3,Bxf3,Qxf3,exf4,Bxf4,Ne5,Bxe5,dxe5,Nd5,c6,Nxe7+,Qxe7,g4,Rad8,g5,Nd7,h4,Nb6,Bb3,a5,a4,c5,Qg4,c4,dxc4,Qc5+,Kh1,Nxc4,h5,Nd2,g6,Nxb3,gxh7+,Kxh7,Rg1,Rg8,Qf5+,g6,hxg6+,fxg6,Qf7+,Rg7,Qxb3,Qf2,Rg2,Qf7,Qh3+,Kg8,Qg4,Rh7+,Kg1,Kg7,Rf2', 'Rh1+,Kxh1,Qxf2', 'https://lichess.org/training/fSRcX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fSrNS', 'Rapid', 'Klaus50', 2060, 'wifu', 1909, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,h6,Bh4,Qb6,Qd2,Be7,O-O-O,Nbd7,Bf2,Qc7,h3,b5,a3,Bb7,Bd3,h5,Rhe1,Nc5,Kb1,Nxd3,cxd3,Rc8,Rc1,Qd7,Nf3,a5,e5,Nd5,Ne4,b4,exd6,Rxc1+,Rxc1,Bf6,Ne5,Bxe5,fxe5,O-O,Nc5,Qb5,Ka1,bxa3,bxa3,Rc8,Rb1,Nb4,axb4,axb4,Qxb4', 'Ra8+,Qa4,Rxa4+', 'https://lichess.org/training/fSrNS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fsRpD', 'Rapid', 'Milann', 1930, 'legend35', 1900, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,c5,b6,b4,a5,a3,h6,Bf4,Nc6,b5,Nxd4,Qxd4,Bxc5,Qd1,Ng4,e3,Qf6,Qd3,d4,Ne4,Qd8,Nxc5,bxc5,exd4,cxd4,f3,Qf6,Bxc7,Ne3,Ne2,Bb7,Rc1,e5,a4,O-O,Ng3,Qf4,Kf2', 'Ng4+,Kg1,Qxc1', 'https://lichess.org/training/fsRpD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FsRrz', 'Rapid', 'apostrov13', 1839, 'AndreyElian', 1771, 'e4,c5,Bc4,d6,d3,Nf6,a3,e6,f4,Be7,Nf3,O-O,O-O,a6,Qe1,b5,Ba2,Bb7,Qg3,Qb6,Be3,Nc6,Nbd2,Qc7,f5,exf5,Nh4,fxe4,Nxe4,Nxe4,dxe4,Ne5,Nf5,Ng6,Bh6,gxh6,Nxh6+,Kh8,Nxf7+,Kg8,Nxd6+,c4,Rxf8+,Rxf8,e5,Kh8,b3,Nf4,Qe3,Nxg2,Qd4,Nf4,Re1,Rg8+,Kf2,Bh4+,Ke3,Bxe1,e6+,Qg7', 'Nf7#', 'https://lichess.org/training/FsRrz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fss8A', 'Rapid', 'Victor_Matasov', 1858, 'mannooo', 1900, 'd4,d5,c4,Nf6,Nc3,Nc6,Nf3,Bg4,Ne5,Nxe5,dxe5,Ne4,Nxd5,e6,Qa4+,c6,Ne3,Bh5,g3,Qb6,Bg2,Bb4+,Kf1,Nc5,Qd1,Rd8,Qc2,Bg6,Nf5,Bxf5,e4,Bg4,Be3,O-O,a3,Qa5,Rb1,Bxa3,bxa3,Qxa3,h3,Bh5,g4,Bg6,h4,h6,Bf3,Rd7,Kg2,Rfd8,h5,Bh7,g5,hxg5,Bxg5,Rc8,h6,g6,Be3,Nd3,Ra1,Qb4,Rxa7,Nxe5,Rb1,Qe7,Be2,Qh4,f4,Ng4,Bxg4,Qxg4+,Kf2,Qh4+,Kf3,Qh5+,Kg3,Rcd8,Rbxb7,Rd3,Qf2,Rf8,Rd7,Rxd7,Rxd7,Qxh6,Qh2,Qg7', 'Bd4,f6,Rxg7+', 'https://lichess.org/training/fss8A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fStzL', 'Rapid', 'Hipoxig', 1749, 'Kingdomfreak', 1732, 'd4,d5,Nc3,Bf5,Bf4,e6,e3,c6,Nf3,Nd7,Ne5,Ngf6,Nxd7,Qxd7,Bd3,Be7,Bxf5,exf5,Qd3,O-O,h3,a5,Na4,Bd8,Nc5,Qc8,Qb3,b6,Nd3,Qb7,Qc3,Be7,Ne5', 'Bb4,Qxb4,axb4', 'https://lichess.org/training/fStzL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fsuW9', 'Rapid', 'tahataha', 1887, 'rajabaz', 1701, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,O-O,Be7,Be3,O-O,f4,c5,Qd2,Ng4,f5,Nxe3,Qxe3,a6,Rad1,b5,Bd5,Rb8,Bc6,Qc7,Bd5,Bb7,a3,b4,axb4,cxb4,Na4,Bxd5,exd5,Qxc2,Qxe7,Qxa4,Qxd6,Rbd8,Qc6,Qxc6,dxc6,Rxd1,Rxd1,Rc8,Rc1,Kf8,Kf2,Ke7,Ke3,Kd6,Rc4,a5,Rg4,Rg8,Rc4,g6,fxg6,fxg6,c7,Rc8,Kd4,Rxc7', 'Rxc7,Kxc7,Kc5', 'https://lichess.org/training/fsuW9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FsVys', 'Rapid', 'stefan10', 2066, 'osmncyln12345', 2064, 'e4,c5,Nf3,Nc6,Nc3,d6,Bb5,Nf6,d3,Bd7,Bxc6,Bxc6,Bg5,e6,h3,h6,Bf4,Be7,e5,dxe5,Bxe5,O-O,O-O,Nd5,Nxd5,Bxd5,b3,f6,Bb2,e5,Nd2,a5,a4,Bc6,Ne4,b5,axb5,Bxb5,Nc3,Bc6,Na4,Qc7,Qd2,Qb7,f3,Qb4,Qe3,Bd6,Ba3,Qd4,Bxc5', 'Bxc5,Qxd4,Bxd4+', 'https://lichess.org/training/FsVys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FSz3h', 'Blitz', 'issam1992', 1503, 'Vindicta', 1637, 'g3,e6,Bg2,Nf6,Nf3,Bd6,d4,c6,Nc3,Bb4,Bd2,Bxc3,Bxc3,O-O,Qd2,Nd5,O-O-O,Nxc3,Qxc3,a5,a4,b6,h4,Bb7,h5,Na6,Ne5,f6,Ng4,Nb4,Kb1,Rb8,h6,g6,f4,Nd5,Bxd5,cxd5,Nf2,Rc8,Qd3,Qc7,Nh3,Qc4,Qd2,Ba6,Rh2,Qxa4,f5,exf5,e4,fxe4,Nf4,Bb7,Nxg6,hxg6,Rdh1,Qb4,h7+,Kh8,Qh6,Qxd4,Qxg6,e3,Rh4,Qe5,Rg4,Qe7,Rf1,e2,Rxf6,e1=Q+,Ka2,Rxf6', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/FSz3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fSZgx', 'Blitz', 'Ronazb', 1844, 'SanchessJc', 1812, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,e6,Nf3,Nf6,O-O,Be7,Re1,O-O,Nbd2,b6,Bb1,Bb7,Qc2,h6,Ne5,Rc8,Ng4,Nxd4', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/fSZgx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ft0E0', 'Blitz', 'Doudou2015', 2080, 'Boydia', 2351, 'd4,d5,Nc3,e6,e4,Nf6,e5,Nfd7,f4,c5,Nce2,Nc6,c3,b6,Nf3,Bb7,h4,Be7,h5,h6,g4,Qc7,Qa4,O-O-O,a3,Kb8,b4,cxd4,cxd4,f6,b5,Na5,Bd2,Nc4,Bb4,Rde8,Rc1,fxe5,Nxe5,Ndxe5,fxe5,Bg5,Rc2,Qf7,Nc1,Qf3,Rh3,Qe4+,Kd1,Qxd4+,Bd3,Nxe5', 'Bd6+,Ka8,Qxd4', 'https://lichess.org/training/Ft0E0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ft2sA', 'Rapid', 'sawyas', 1991, 'playerok', 1959, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bf5,O-O,Be7,Re1,O-O,c4,c6,cxd5,cxd5,Nc3,Nxc3,bxc3,Bxd3,Qxd3,Nc6,Bf4,Bf6,Rab1,b6,Qb5,Na5,Ne5,Bxe5,Rxe5,Qc7,Qxd5,Qxc3,Rc1,Qd3,Be3,Rac8,Rf1,Nc4,Re7,Qa3,Qd7,a5', 'Rxf7,Rxf7,Qxc8+', 'https://lichess.org/training/Ft2sA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fT4rE', 'Classical', 'jadou2010', 1989, 'lightars', 1783, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,Nf3,Nc6,e3,cxd4,exd4,O-O,Bd3,d5,Bg5,dxc4,Bxh7+,Kh8,O-O-O,g6,Bxg6,fxg6,Qxg6,Ne7', 'Bxf6+,Rxf6,Qxf6+', 'https://lichess.org/training/fT4rE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ft5Ym', 'Rapid', 'fiorg', 1872, 'jovanb', 1993, 'd4,e5,dxe5,Nc6,Nf3,Nge7,Bf4,Ng6,e3,Bb4+,c3,Ba5,Bd3,O-O,Bxg6,hxg6,O-O,Re8,b4,Bb6,a4,a6,a5,Ba7,Bg5,Ne7,Nd4,d6,f4,c5,Nf3,dxe5', 'Qxd8,Rxd8,Bxe7', 'https://lichess.org/training/Ft5Ym');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftaCS', 'Blitz', 'sebixdres', 2061, 'Pioneczkowy', 1755, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,cxd4,cxd4,f6,exf6,Nxf6,Nf3,Bd6,O-O,O-O,Bf4,Qc7,Bxd6,Qxd6,Ng3,e5,dxe5,Nxe5,Nxe5,Qxe5,b3,Ne4,Qc2,Bf5,Nxf5,Rxf5,f3,Qd4+,Kh1', 'Ng3+,hxg3,Rh5#', 'https://lichess.org/training/ftaCS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftATB', 'Blitz', 'chamsou18', 1680, 'mk_weo', 1679, 'e4,e5,d4,exd4,c3,b6,Bc4,dxc3,Nf3,cxb2,Bxb2,Nf6,e5,Bb4+,Nbd2,Ne4,O-O,Nxd2,Nxd2,Bxd2,Qxd2,O-O,e6,dxe6,Qc3,f6,Rfe1,Qe7,Rad1,c5,Qg3,Nc6,Bc1,Bb7,Bh6,Nd4,Bxe6+,Nxe6,Rxe6,Qf7,Rde1,Rae8,Rxe8,Rxe8', 'Rxe8+,Qxe8,Qxg7#', 'https://lichess.org/training/ftATB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftcMa', 'Rapid', 'amikhailov', 1710, 'Nacho0210', 1756, 'c4,g6,d4,Bg7,Nc3,d6,Nf3,Nf6,e4,c6,Bf4,Qa5,Be2,Nxe4,O-O,Nxc3,bxc3,Qxc3,a4,Qa5,Bd2,Qd8,Rb1,b6,d5,c5,Ng5,O-O,f4,h6,Ne4,f5,Ng3,Nd7,Qe1,Nf6,Bf3,Re8,a5,e6,axb6,axb6,dxe6,Rxe6,Bxa8,Rxe1,Rfxe1,Ne4,Nxe4,fxe4,Rxe4,Bf5,Bd5+,Kh8,Rbe1,Bxe4,Rxe4,Qf6,h3,h5,Re8+,Kh7,Bg8+,Kh6', 'f5+,g5,Re6', 'https://lichess.org/training/ftcMa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FTcqk', 'Rapid', 'topraktoprak', 1811, 'kemokono', 2029, 'e4,e6,Nc3,d5,d4,Nf6,e5,Nfd7,Bb5,c5,Nf3,Nc6,Bxc6,bxc6,dxc5,Bxc5,O-O,O-O,a3,a5,Bg5,Qc7,Bf4,a4,Re1,Bb6,Nd4,Bb7,Qd2,Rfe8,Rad1,Ba5,Qe3,Nc5,Nf5,Ne4,Nd6,Nxd6,exd6,Qd7,Qg3,f6,Re2,e5,Bc1,Ba6,Red2,d4,Ne4,Bxd2', 'Nxf6+,Kh8,Nxd7', 'https://lichess.org/training/FTcqk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fTCzK', 'Classical', 'wdoberenz', 1816, 'elhoot', 1688, 'd4,g6,e4,Bg7,e5,b6,Nf3,Bb7,g3,e6,Bg2,Ne7,O-O,O-O,Re1,d6,c4,dxe5,Nxe5,Bxg2,Kxg2,Bxe5,Qf3,Nbc6,dxe5,Nd4,Qf6,Nc2,Re2,Nxa1,Rd2,Qc8,Qxe7,Qb7+,Kg1,Qf3,Nc3,Rae8,Qh4,f6,Rd7,h5,Bf4,Rd8,Rxd8,Rxd8,Qxf6,Rf8,Qxe6+,Rf7,Qxg6+,Rg7,Qe8+,Kh7,e6,Qxf4,e7,Qe5,Nd5,Qe1+,Kg2,Qe4+,Kg1,Qe1+,Kg2,Qe4+,f3,Qe2+,Kh3,Qf1+,Kh4,Qxf3', 'Qxh5+,Qxh5+,Kxh5,Rxe7,Nxe7', 'https://lichess.org/training/fTCzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftdOZ', 'Blitz', 'justitian', 1886, 'Almi0791', 2080, 'd4,d5,c4,dxc4,e4,e5,d5,Nf6,Nc3,c6,Bxc4,Bb4,Qb3,Bxc3+,bxc3,Nxe4,dxc6,Nd6,cxb7,Bxb7,Ba3,Bxg2,O-O-O,Qg5+,Kb1,Nxc4,Qb5+,Bc6,Qxc4,Bxh1', 'Qc8+,Qd8,Rxd8#', 'https://lichess.org/training/ftdOZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FTecB', 'Rapid', 'gourish1979', 1920, 'L1F-R', 1769, 'e4,c5,f4,e6,Nf3,d6,Bc4,a6,d4,cxd4,Nxd4,b5,Bb3,Bb7,O-O,Bxe4,Re1,Bb7,Nxe6,fxe6,Rxe6+,Be7,Qh5+,g6,Rxg6,hxg6,Qxh8,Qb6+,Kh1,Kd7,Qxg8,Qc6,Qxg6,a5,a3,Na6,Nc3,Nc5,Ba2,b4,axb4,axb4,Be6+', 'Nxe6,Rxa8,Bxa8', 'https://lichess.org/training/FTecB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fTeoj', 'Rapid', 'momo_klaus', 1979, 'dat_Player', 2045, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,c4,Nf6,Nc3,Bg4,Be3,e6,c5,Be7,h3,Bh5,g4,Bg6,Bb5,a6,Bxc6+,bxc6,O-O,Qc7,Ne5,Nd7,Bf4,Qc8,b4,Nxe5,Bxe5,O-O,Kg2,Re8,Kg3,Qd8,Na4,f6,Bf4,e5,dxe5,fxe5,Bd2,Qc7,Nb6,Rad8,f4,Bd3,Rf3,Be4,Rf1,Rf8,fxe5,Qxe5+,Bf4,Bh4+,Kxh4,Rxf4,Rxf4,Qxf4,Qf1,Qe5,Re1,Rf8', 'Qxf8+,Kxf8,Nd7+,Ke7,Nxe5', 'https://lichess.org/training/fTeoj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftFkR', 'Classical', 'stepan-kolbin', 2025, 'Charan2008', 2221, 'd4,d5,c4,c6,b3,Bf5,Nc3,e6,f3,Bb4,Bd2,Qa5,Rc1,Nf6,e3,Nbd7,Nge2,Qc7,Ng3,Ba3,Nxf5,O-O,Nxg7,Kxg7,Rc2,Bd6,cxd5,exd5,Nb5,Qb8,Nxd6,Qxd6,Bd3,Kh8,O-O,Rg8,e4,dxe4,Bc4,Qxd4+,Kh1,Ne5,Bc3,Qc5,Bxf7,Rg7,Bc4,exf3,Rxf3,Rf8,Rf5,Nfg4,Rxf8+,Qxf8,Qe1,Qf4,Bxe5,Nxe5', 'Rf2,Qxf2,Qxf2', 'https://lichess.org/training/ftFkR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FTfP9', 'Blitz', 'Obregonf1', 1948, 'Schachglanzz', 1920, 'd4,e6,Bf4,Nf6,e3,Nc6,c3,g6,Bd3,Bg7,Nf3,d6,Nbd2,O-O,h4,h5,Bg5,e5,dxe5,Nxe5,Nxe5,dxe5,Bc2,Qd6,Qf3,Bg4,Qg3,Rad8,Nb3,Ne4,Bxe4', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/FTfP9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fTFse', 'Rapid', 'zasfet', 1809, 'sofijasaramilomir123', 1817, 'e4,e5,Nf3,c6,d4,f6,dxe5,fxe5,Bc4,Nf6,Nxe5', 'Qa5+,Nd2,Qxe5', 'https://lichess.org/training/fTFse');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FTiAc', 'Rapid', 'naborjs', 1952, 'salirbeber', 2031, 'e4,c5,Nf3,g6,Nc3,Bg7,h4,Nc6,Bc4,Nf6,d3,d6,a3,Bg4,Bg5,Nd4,Nb5,O-O,Nbxd4,cxd4,Qd2,a6,Nxd4,b5,Bb3,e5,Nf3,h5,Nh2,Qb6,Nxg4,Nxg4,f3,Nf6,O-O-O,a5,Rdg1,a4,Ba2,Rfc8,g4,Ra7,Bxf6,Bxf6,gxh5,Rac7,Bb1,d5,hxg6,Bg7,gxf7+,Kxf7,Qg5', 'Bh6,Qxh6,Qxh6+', 'https://lichess.org/training/FTiAc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FTj3k', 'Rapid', 'ccets', 1921, 'dr_mehul', 2058, 'Nf3,d5,e3,Nc6,b3,e5,Bb2,Bg4,Be2,f5,Nxe5,Bxe2,Qxe2,Nf6,Qb5,Rb8,Nxc6,bxc6,Qxc6+,Qd7,Qxd7+,Nxd7,Nc3,c6,Ne2,Kf7,Nd4,c5,Nxf5,c4,Ke2,Nf6,d3,g6,Nd4,Bg7,Rab1,Rhc8,Nf3,cxd3+,cxd3,Rc2+,Nd2,Rbc8,h3,Ne4,dxe4,Bxb2,Kd1,d4,Nc4,R8xc4,bxc4,d3,Rf1,a5,g3,a4,h4,a3,g4,Ke6,h5,Ke5,hxg6,hxg6,f3,Kd6,f4,Kc5,f5,gxf5,exf5,Kxc4,f6,Kc3,f7,Rd2+,Ke1,Re2+,Kd1,Rd2+,Ke1,Kc2,f8=Q', 'Re2#', 'https://lichess.org/training/FTj3k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FTjiR', 'Rapid', 'alexmayer', 1677, 'Murman', 1681, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Bxc6,Nxc6,c3,h6,d4,exd4,cxd4,Be7,d5,Na7,a3,O-O,b4,d6,Nc3,c6,Be3,cxd5,Nxd5,Nc6,Qc1,g5,Qb2,Be6,Rad1,Bxd5,exd5,Bf6,Bd4,Nxd4,Nxd4,Bxd4,Qxd4,b5,f4,Rc8,fxg5,Qxg5,Rf4', 'Rc4,Qxc4,bxc4', 'https://lichess.org/training/FTjiR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FtlWw', 'Blitz', 'katsilver', 2089, 'fungo', 2089, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,O-O,O-O,f4,b6,fxe5,dxe5,Bg5,Be6,Qe1,Nc6,Rd1,Qc7,Qh4,Rfd8,Bxf6,Bxf6,Rxf6,gxf6,Rf1,Ne7,Qxf6,Ng6,h4,Qe7,Qf2,Qxh4,g3,Qh6,Nd5,Bxd5,exd5,Qg7,c4,b5,cxb5,axb5,Bxb5,Rxa2,Bc6,e4,Nd4,Ne5,Nf5,Nf3+,Kg2,Qxb2,d6,Qxf2+,Rxf2,Rxf2+,Kxf2,Ne5,Bxe4,Ng4+,Kf3,Nf6,Bc6,h5,Kf4,Nh7,Ke5,Kf8,d7,Ng5,Kd6,Ne6,Bd5,Rb8,Bxe6,fxe6,Kc7,Ra8,Nd6,Ra7+,Kc8,Ra8+,Kb7,Rd8', 'Kc7,Rxd7+,Kxd7,Kg7,Kxe6', 'https://lichess.org/training/FtlWw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fTm60', 'Rapid', 'chuckbranson', 2038, 'mc_tiger_chicky_face', 2103, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,Nxe4,d5,Ne7,Nxe5,d6,Bb5+,c6,dxc6,bxc6,Nxc6,Qb6,Nxa7+,Bd7,Bxd7+,Kxd7,Qa4+,Kd8,Qxe4,Qxa7,O-O,Ng6,Be3,Qa5,Qc6,Rb8,b4,Qc7,Qxc7+,Kxc7,Nd2,Be7,a4,Ne5,f4,Nd7,Bd4,f6,a5,d5,Rfe1,Bd6,g3,h5,Nb3,h4,Kg2,hxg3,hxg3,Rh5,Rh1,Rxh1,Rxh1,Kc6,a6,Kb5,a7,Ra8,Rh7,Nb6,Rxg7,Nc8,Na5,Be7,Nb7,Kc6,Nc5,Rxa7,Ne6,Ra2+,Kf3,Kd6,f5,Ra3,Bc5+,Kd7,Nf8+,Ke8,Bxe7,Rxc3+,Ke2,Nxe7,Ne6,Nxf5,Rg4', 'Re3+,Kd2,Rxe6', 'https://lichess.org/training/fTm60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fTN7y', 'Blitz', 'batistato', 1812, 'Tynnyri', 1944, 'e4,b6,d4,Bb7,f3,e6,c4,d5,Nc3,dxe4,fxe4,Bxe4,Nxe4,Qh4+,Ng3,Bb4+,Bd2,Bd6,Qf3,Bxg3+,Qxg3,Qxd4,Nf3,Qxb2,Rc1,Ne7,Qxc7,Nbc6,Be2,Rd8,O-O,Rxd2,Rcd1,Rxe2', 'Qd7+,Kf8,Qd8+,Nxd8,Rxd8#', 'https://lichess.org/training/fTN7y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fTnqx', 'Rapid', 'pigidser', 1688, 'Mamoun05', 1731, 'e4,e5,c4,c6,d4,Qc7,d5,cxd5,exd5,Nf6,Nc3,Bb4,Bd2,a5,a3,Bxc3,Bxc3,d6,Ne2,Qxc4,Nd4,Qc5,Nb3,Qb6,h3,Ne4,Nd4,exd4,Bxd4,Qd8,Bxg7,Rg8', 'Qa4+,Nd7,Qxe4+,Qe7,Qxe7+', 'https://lichess.org/training/fTnqx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftoSI', 'Blitz', 'Tetiksh1Agrawal', 1860, 'aditya3044', 1635, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,Nc3,Bc5,Be3,Bxe3,fxe3,O-O,O-O,d6,h3,a6,Bb3,Re8,Nd5,Nxd5,Bxd5,Bd7,d4,exd4,exd4,Rb8,Nd2,Nb4,Bxf7+,Kh8,Bxe8,Qxe8,Nb3,Qxe4,Rf7,Bc6,Qg4,Qxg4,hxg4,Nxc2,Rc1,Nb4,Rxc7,Nxa2,Rf1,Nb4,Rff7,Nd5,Rxg7,Nxc7,Rxc7,Rg8,Na5,Rxg4,Nxc6,bxc6,Rxc6,Rxd4,Rxa6,Kg7,Kh2,Kg6,Kh3,Kf5,Ra5+,d5,g4+,Kg5,b4,Rd3+,Kg2,Kxg4,b5,Rd2+,Kf1,Rb2,b6,Kf3,Rxd5', 'Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/ftoSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FTpsn', 'Rapid', 'FrostDeezAKASN', 1958, 'Admiral19901130', 1902, 'g3,e5,Bg2,Nf6,d3,d5,b3,Nc6,Bb2,b6,Nd2,Bb7,e4,dxe4,Nxe4,Nd4', 'Nxf6+,Qxf6,Bxb7', 'https://lichess.org/training/FTpsn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftpVj', 'Blitz', 'FM Godzillator', 2469, 'Lur15', 2356, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,Be7,e3,O-O,Bd3,Re8,Qc2,c6,Nf3,h6,Bh4,Ne4,Bxe4,dxe4,Qxe4,Bxh4,Qxh4,Qa5,O-O,Nd7,Rfc1,Nf8,Ne5,Be6,Qg3,Rac8,Ne4,Kh8,Nd6,Qd2,Nxe8,Rxe8,b3,Kg8,Qf3,Bd5,Qd1,Qa5,Rc5,Qd8,Qg4,Qd6,Rac1,f6,Nd3,Re4,Qg3,Qd7,Nf4,Bf7,h3,g5,b4,Kh7,Qf3,Qe7,Nh5,Re6,Rf5,Nd7,d5,cxd5,Rc7,Kg6,Ng3,Ne5,Qh5+,Kg7,Rxe7,Rxe7,Qe2,Bg6,Qd2,h5,Qxd5,h4,Rxe5,Rxe5,Qd7+,Kh6,Ne2,Be4,Qd6,Kg6,Nc3,Bc6,b5,Bxb5,Nxb5,Rxb5,Qe6,Rb1+,Kh2,Rb2,a4,Rxf2,Qe4+,Kg7,Qxb7+,Kg6,Qxa7,f5,Qb6+,Kh5,Qd8,g4,Qh8+,Kg5,Qg7+,Kh5,Qf7+,Kg5,hxg4,h3,Kxh3', 'fxg4+,Kg3,Rxf7', 'https://lichess.org/training/ftpVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FtpVT', 'Blitz', 'Socrate83', 1893, 'Catpower', 1807, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,O-O,Rb1,c5,Ne2,Nc6,Be3,cxd4,cxd4,Qa5+,Bd2,Qc7,Rc1,Qd7,d5,Ne5,O-O,Nxc4,Rxc4,b6,Qc1,Ba6,Rc7,Qb5,Ng3,Be5,Rxe7,Bd6,Bg5,f6,Rxh7,Kxh7,Bf4,Rac8,Qe3,Be5,Bxe5,fxe5,Qg5,Qc5,Qxe5,Qxf2+,Rxf2', 'Rc1+,Nf1,Rxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/FtpVT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftrD3', 'Blitz', 'yusef_azari', 1625, 'zweedp', 1600, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,Nf6,e3,O-O,Bd3,a6,O-O,Bxc3,bxc3,Nc6,Qc2,Re8,cxd5,Qxd5,c4,Qh5,h3,e5,d5,Ne7,e4,Bxh3,gxh3,Qxf3,Kh2,Nh5,Rg1,Ng6,Be2,Qxf2+,Rg2,Qh4,Bxh5,Qxh5,Rg5,Qf3,Rg3,Qf6,Bb2,Rad8,Rag1,Qf4,Kh1,f6,Qg2,Nh4', 'Rxg7+,Kh8,Rxh7+,Kxh7,Qg7#', 'https://lichess.org/training/ftrD3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FTTHO', 'Rapid', 'blue_cactus', 1690, 'Patanatom', 1683, 'e4,c5,Nf3,Nc6,Bb5,e6,c3,Nf6,O-O,Nxe4,Re1,Nf6,d4,cxd4,cxd4,Be7,Nc3,O-O,Bf4,d5,Rc1,a6,Ba4,b5,Bc2,Bb4,Qd3,g6,a3,Ba5,Ne5,Nxe5,Bxe5,Bc7,Qf3,Bxe5,Rxe5,Kg7,Nd1,Qb6,Qf4,Nh5,Qg4,Nf6,Qf4,Qa5,Ne3,Qd2', 'Nf5+,exf5,Qxd2', 'https://lichess.org/training/FTTHO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FTtNA', 'Rapid', 'MDmitriy', 1643, 'ferrie', 1656, 'e4,c5,Nf3,d6,Be2,Nf6,d3,g6,c3,Bg7,O-O,O-O,Be3,Nc6,Nbd2,a5,d4,cxd4,cxd4,b6,Ne1,Ba6,f4,Nd7,f5,e5,dxe5,dxe5,b3,Nc5,Bxc5,bxc5,Bxa6,Rxa6,Qc2', 'Qd4+,Kh1,Qxa1', 'https://lichess.org/training/FTtNA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftxWd', 'Rapid', 'Dhruv23', 2062, 'JP1979', 1984, 'd4,d5,Nf3,Nf6,c4,e6,Nc3,Be7,Bf4,O-O,e3,Nbd7,Be2,dxc4,O-O,Nd5,Bxc4,Nxf4,exf4,a6,Bd3,c5,Qc2,g6,d5,Nf6,dxe6,Bxe6,Rad1,Qc8,Ng5,Bg4,f3,c4,fxg4,cxd3,Qxd3,Qxg4,h3,Qc8,Rfe1,Qc7,Nge4,Qxf4,Rf1,Qe5,Nxf6+,Bxf6,Qf3,Qc5+,Kh1,Bxc3,bxc3,Qc7,Rd4,Rae8,Rb4,Re7,Rfb1,Rfe8,Qf4,Qc6,Rb6,Re1+,Kh2,Qc5,Rxe1,Rxe1,Rxb7,Qg1+,Kg3,Re3+,Kh4,Re4,Qxe4,Qf2+,Kg5,f6+,Kh6', 'Qd2+,Qf4,Qxf4#', 'https://lichess.org/training/ftxWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftYla', 'Rapid', 'lopyt', 1996, 'isbar2014', 2030, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Nc6,O-O,e5,dxe5,dxe5,Bg5,Qxd1,Raxd1,Be6,Bxf6,Bxf6,Nd5,Bxd5,cxd5,Nd4,Nxd4,exd4,Rd3,c6,dxc6,bxc6,Rc1,Rfc8,Bg4,Rc7,f4,c5,e5,Be7,b4,Rb8,Rxd4,cxd4,Rxc7,Bxb4,e6,fxe6,Bxe6+,Kh8,Rxa7,d3,Bb3', 'Bc5+,Kf1,Bxa7', 'https://lichess.org/training/ftYla');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftymq', 'Rapid', 'Pantaki', 1899, 'hmafzan', 1984, 'e4,c5,Nc3,e6,Bc4,Nc6,d3,Nf6,Nf3,a6,a4,d5,exd5,exd5,Bb3,Be7,Bg5,Bg4,Bxf6,Bxf6,Bxd5', 'Bxc3+,bxc3,Qxd5', 'https://lichess.org/training/ftymq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FTyTo', 'Rapid', 'Mariolo23', 1793, 'kuchymonster', 1816, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Be7,Nbd2,Qb6,Nb3,cxd4,cxd4,Bb4+,Bd2,Nh6,Be2,Nf5,O-O,Ncxd4,Nfxd4,Nxd4,Bxb4,Nxe2+,Qxe2,Qxb4,f4,O-O,Rf3,b6,Rh3,Qxf4,Qh5,Qf5,Qh4,Ba6,Nd4,Qe4,Qh5,Be2,Nxe2,Rac8,Nc3,Qd4+,Kh1,h6,Rg3,Kh7,Re1,Qd2,Rb1,Qc2,Qd1,Qf5,Qd3,Qxd3,Rxd3,Rc7,Nb5,Rc5,Nd6,d4,Rxd4,Rxe5,h3,Rd8,Nb5,Rc8,Nxa7,Ra8,Nc6,Rc5,Nb4,Rac8,Rd7,f5,Rb7,b5,Nd3,Rd5,Nf4,Re5,Rd1,Re4,Nd3,Re2,Rxb5,Rd8,Rb3,e5,Kg1,e4,Nf2,Rc8,Rb1,Rcc2,Rf1,e3,a4', 'exf2+,Kh2,Re1', 'https://lichess.org/training/FTyTo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ftZfb', 'Rapid', 'pebrots', 1680, 'scharan999', 1641, 'Nf3,d5,g3,Nf6,d4,Nc6,c3,Bf5,Nbd2,e6,Bg2,Bd6,b4,O-O,a4,Re8,a5,Qd7,Nh4,Bg4,h3,Bh5,g4,Bg6,Nxg6,fxg6,O-O,e5,e3,Ne4,Nxe4,dxe4,Bxe4,exd4,Bd5+,Kh8,exd4,Ne7,Bxb7,Rab8,Qf3,Qb5,a6,Rf8,Qg2,Qc4,Bb2,c6,Rae1,Nd5,Re6', 'Nf4,Rxd6,Nxg2', 'https://lichess.org/training/ftZfb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fu1rf', 'Rapid', 'Tomislav1969', 1684, 'syyper', 1621, 'b3,e5,Bb2,Nc6,g3,d5,Bg2,Nf6,d3,Bd6,e3,O-O,Ne2,Re8,O-O,Bf5,Nd2,e4,dxe4,dxe4,a3,h5,h3,Qd7,h4,Bh3,Nf4,Bxf4,exf4,Bxg2,Kxg2,Rad8,Bxf6,gxf6,Nc4,Qxd1,Rfxd1,Nd4,Ne3,Kg7', 'Rxd4,Rxd4,Nf5+,Kg6,Nxd4', 'https://lichess.org/training/Fu1rf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fu3Wo', 'Blitz', 'PedroAlbert', 1792, 'Raphaelachess29', 1810, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,c3,dxc3,Nxc3,d6,d4,Nf6,O-O,Be7,Qb3,O-O,e5,dxe5,dxe5,Ne8,Bf4,c6,Rad1,Qb6,Qc2,Be6,Bxe6,fxe6,Be3,Bc5,Bxc5,Qxc5,Rfe1,Nc7,Rd3,Nd5,Rh3,g6,Re4,Nxc3,Rg4,Kg7', 'Rxh7+,Kxh7,Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/Fu3Wo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fU62Y', 'Classical', 'Mishel52', 2172, 'm_markides_76', 1979, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Be2,Ne7,O-O,O-O,c4,c6,cxd5,Nxd5,Nc3,Nf6,Bg5,Be6,Ne4,Be7,Ng3,Nbd7,Qc2,Rc8,Rad1,Nd5,Bxe7,Qxe7,a3,N7f6,Rfe1,Qc7,b4,Rfd8,Bd3,Bg4,Bf5,Bxf5,Nxf5,Re8,Ne5,Nd7,Nc4,Rcd8,Qd2,N7f6,Qg5,g6,Ne5,Kf8', 'Qh6+,Kg8,Qg7#', 'https://lichess.org/training/fU62Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FU6KL', 'Bullet', 'alikhanovlevon', 1615, 'gladprof', 1553, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,Bg4,Be3,e6,Be2,Bd6,h3,Bh5,a3,f5,O-O,Nf6,Ng5,Bxe2,Qxe2,Qe7,Nb5,h6,Nxd6+,Qxd6,Nf3,O-O,Rac1,Ne4,Nd2,b6,f3,Ng3,Qf2,Nxf1,Qxf1,f4,Bf2,Qe7,c3,Rf5,Re1,Rh5,Qb5,Nd8,c4,Qf6,cxd5,exd5,Qd7,Nf7,Re7,Ng5', 'Re8+,Rxe8,Qxe8+,Qf8,Qxh5', 'https://lichess.org/training/FU6KL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fu6On', 'Rapid', 'thomas94033', 1700, 'ABC90', 1700, 'e4,d5,exd5,Nf6,Bb5+,c6,dxc6,bxc6,Be2,e5,Nf3,Bd6,d3,O-O,O-O,Bc7,h3,Bb7,Nc3,Nbd7,a3,a6,Re1,c5,Bg5,Nb6,b3,Qe7,a4,Nbd5,Qd2,Qd6,Nxd5,Nxd5,a5,Nf4,Bxf4,exf4,d4,cxd4,Qxd4,Qg6,Bd3,f5,Be2,Rac8,c4,Rcd8,Qc3,Rde8,Qb4,Ba8,Bf1', 'Bxf3,Rxe8,Rxe8', 'https://lichess.org/training/fu6On');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FU6P4', 'Classical', 'Zmey1973', 1647, 'GoncharovMikhail', 1779, 'e4,c5,Nf3,e6,Be2,Nc6,c3,d5,d3,dxe4,dxe4,Qxd1+,Bxd1,Bd7,O-O,O-O-O,Be3,f5,exf5,exf5,Bf4,h6,Ne5,Be6,Ng6,Rh7,Nxf8,Rxf8,Re1,g5,Be5,Nxe5,Rxe5,Re8,Rxc5+,Kb8,Bh5,Rd7,Na3,Red8,Nb5,g4,Nd4,Bd5,Nxf5,Nf6,Ng3,Bxa2,h3,Nxh5,Rxh5,gxh3,Rxh3,Rd1+,Rxd1,Rxd1+,Kh2,Rd2,Rxh6,Rxb2,f4,Bd5,f5,Bxg2,Kg1,Bd5,f6', 'Rg2+,Kf1,Rxg3', 'https://lichess.org/training/FU6P4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fU6s2', 'Rapid', 'PKSR0711', 1783, 'TauilSN', 1760, 'g3,d5,Bg2,e5,c3,e4,Qb3,Nc6,Bh3,Nf6,Bxc8,Qxc8,d3,Bc5,d4,Bxd4,cxd4,Nxd4,Qc3,c5,Bg5,Qg4,Bxf6,gxf6,Qxc5,Ne6,Qxd5,O-O,h3,Qg5,Qxg5+,Nxg5,h4,Rac8,Nd2,Ne6,Nxe4,Rfd8,f3,Nd4,Rd1', 'Nc2+,Kf2,Rxd1', 'https://lichess.org/training/fU6s2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fU7a1', 'Blitz', 'mockmasterli', 2166, 'Deloscuchillos', 2078, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Nb3,g6,Be2,Bg7,O-O,O-O,Be3,e6,f4,d5,e5,Nd7,Bf3,f6,Nc5,Nxc5,Bxc5,Re8,exf6,Bxf6,Qd2,Qa5,Bf2,d4,Ne4,Qxd2,Nxd2,e5,Bxc6,bxc6,Ne4,Bg7,fxe5,Rxe5,Nd6,Re2,Rae1,Ba6,Rxe2,Bxe2,Re1,Rd8,Bg3,d3,cxd3,Bxd3,b3,Bd4+,Kh1,Rf8,h3,Rf1+,Rxf1,Bxf1,Bf4,Kf8,Nc4,Bxc4,bxc4,Ke7,g3,Ke6,Kg2,Kf5,Kf3,h5,g4+,hxg4+,hxg4+,Ke6,Ke4,Bf6,Be3,a6,a4,Bc3,c5,Bf6,Bf4,Be7,Be3,Bh4,Bf4,Bf2,Be3,Bxe3,Kxe3,Kd5,Kf4,Kxc5,Kg5,Kb4,Kxg6,c5,g5,c4,Kf7', 'c3,g6,c2,g7,c1=Q,g8=Q,Qc4+', 'https://lichess.org/training/fU7a1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FU85L', 'Classical', 'PhilBretagne', 1625, 'adilquhamy', 1636, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Na5,Bxf7+,Kxf7,Nxe5+,Kf8,Qf3+,Nf6,d3,h6,g4,d5,Nxd5,Nc6,Ng6+,Kg8,Nxh8,Kxh8,Nxf6,Qxf6,Qxf6,gxf6,Bf4,Nd4,O-O-O,Kh7,Kb1,c6,Be3,Bb6,Bxd4,Bxd4,f3,Be3,Rhe1,Bf4,Re2,Bd7,c3,Be8,d4,Rd8,d5,cxd5,exd5,Bf7,c4,b5,Re7,Kg6,b3,a6,Ra7,bxc4,bxc4,Rb8+,Kc2,Be5,Rxa6,Rb2+,Kd3,Kg5,Ra7,Bg6+,Ke3,Rxh2,Rf1,Bf4+,Kd4,Rd2+,Kc5', 'Be3+,Kc6,Bxa7', 'https://lichess.org/training/FU85L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fu9Sf', 'Classical', 'Cinebulle', 1810, 'M0_mO_564', 1937, 'c4,Nf6,g3,d5,cxd5,Qxd5,Nf3,Nc6,Nc3,Qd8,d4,Bg4,Bg2,Bxf3,Bxf3,Nxd4,Bxb7,Rb8,Qa4+,Qd7,Qxd7+,Nxd7,Be4,Nf6,Bd3,e6,O-O,Be7,b3,O-O,Bb2,Rfd8,Rac1,c5,Na4,Rbc8,e3,Nf3+,Kg2,Nxh2,Rfd1,Nhg4,Rc4,Rd7,Ba3,Ne5,Rc3,c4,Bxe7,Nxd3,Bxf6,gxf6,Nb2,Rcd8,Nxc4,Nf4+,gxf4,Rxd1,Kf3,h5,e4,Rg1,Ke3,h4,Nd2,h3,Nf3,Rg2,Rc1,Kg7,Rh1,Rh8,Ng1,h2,Nf3,Rh3,Ke2,Rg1', 'Nxg1,hxg1=Q,Rxg1+', 'https://lichess.org/training/Fu9Sf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FuaMA', 'Rapid', 'Jrquiroga', 1922, 'RichtersNeighbour', 1890, 'e4,c5,Nf3,e6,c3,Nc6,d4,d5,exd5,exd5,Be3,Qb6,Qb3,Na5,Qxb6,axb6,Bb5+,Nc6,Ne5,Bd7,Nxd7,Kxd7,O-O,Nf6,Nd2,Bd6,Nf3,Kc7,a3,Ng4,Bxc6,bxc6,dxc5,Nxe3', 'cxd6+,Kxd6,fxe3', 'https://lichess.org/training/FuaMA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUAWP', 'Blitz', 'FM Kirill_Klyukin', 2604, 'GM Chesser22', 2711, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,e3,d6,Nge2,e5,O-O,Re8,Rb1,Nc6,b4,Bf5,d3,a5,b5,Nb4,e4,Be6,a3,c5,axb4,axb4,Nd5,Nxd5,exd5,Bf5,Be3,Ra3,Be4,Bh3,Re1,f5,Bg2,Bxg2,Kxg2,g5,Bc1,Ra2,Qb3,Qa5,Bb2,Rf8,Ra1,Ra8,h3,h6,Reb1,Qa4,Qxa4,R8xa4,Nc1', 'Rxb2,Rxb2,Rxa1', 'https://lichess.org/training/FUAWP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fUBeb', 'Rapid', 'HHelmut', 1969, 'moonbeam', 2123, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Bd7,a3,cxd4,cxd4,Bb5,Bd3,Bxd3,Qxd3,Ne7,Nc3,Ng6,O-O,Be7,Be3,O-O,b4,Nd7,g3,a5,b5,Rfc8,a4,Qd8,Rfc1,Nb6,Ne2,Rc4,Rxc4,Nxc4,Nd2,Rc8,Rc1,Nb6,Qb3,Nf8,f4,Nfd7,Kf2,Bb4,Nf3,Nc4,Rc2,Rc7,Nc3,Ndb6,Na2,Qc8,Nxb4,axb4,Bd2,Nxd2,Rxd2,Qa8,Qxb4,Qxa4', 'Qd6,Rc8,Qxb6', 'https://lichess.org/training/fUBeb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fuchO', 'Blitz', 'VsevolodElagin', 1878, 'MaskedKing', 1889, 'Nf3,e6,c4,f5,e3,Nf6,d4,c5,Nc3,cxd4,exd4,Bb4,Bd2,Ba5,a3,O-O,b4,Bc7,Be2,d6,h4,e5,h5,exd4,Nxd4,Ne4,Nxe4,fxe4,Be3,Qf6,Qc2,Bf5,g4,Bd7,g5,Qe5,O-O-O,Bb6,h6,Nc6,Nxc6,Bxe3+,fxe3,Bxc6,hxg7,Qxg7,g6,h6,Rxd6,Rad8,Rxd8,Rxd8,Qb2', 'Qxb2+,Kxb2,Rd2+,Kc1,Rxe2', 'https://lichess.org/training/fuchO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUcy6', 'Rapid', 'Suchtl', 2238, 'yonicochrane', 2129, 'Nf3,c5,g3,Nf6,Bg2,g6,c4,Bg7,Nc3,O-O,O-O,d6,e3,Nc6,d4,cxd4,exd4,Bd7,b3,Rc8,Bb2,a6,Re1,Re8,Qd2,e5,dxe5,dxe5,Na4,e4,Ng5,Ng4,Bxg7,e3,fxe3,Kxg7,Ne4,Nce5,Nac5,Bc6,Qc3,f5,Rad1,Qe7,Nd6,Bxg2,Nxe8+,Rxe8', 'Rd7,Qxd7,Nxd7', 'https://lichess.org/training/FUcy6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fUDIf', 'Rapid', 'BlahDS', 1993, 'ephram', 1941, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,c5,c4,Nf6,d5,e6,Nc3,Be7,Be2,O-O,O-O,exd5,cxd5,a6,a4,Re8,Bc4,Bd6,Bg5,Bf5,Qb3,b6,Rfe1,Rxe1+,Rxe1,Nbd7,Nh4,Bg6,Nxg6,hxg6,Ne4,Qc7,Nxd6,Qxd6,h4,Rb8,Bxa6,Ne5,Bf4,Re8,Bb5', 'Nf3+,Qxf3,Rxe1+', 'https://lichess.org/training/fUDIf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fudtn', 'Rapid', 'bdtck8918', 1782, 'RODRIGOROJASGARCIA1', 1791, 'd4,d5,c4,e6,Nc3,c6,Nf3,h6,Qb3,Qb6,Qc2,Ne7,Bf4,Qd8,c5,a6,Bd6,Nf5,Bxf8,Kxf8,e3,Nh4,Nxh4,Qxh4,Be2,f5,O-O,Qf6,f4,g6,Na4,Nd7,Rf3,Kf7,Raf1,h5,Rh3,Kg7,Rff3,Qd8,Rfg3,Nf6,Nb6,Rb8,Bf3,Kf7,Qe2,Bd7,a4,Be8,Rg5,Kg7,Bxh5,Nxh5', 'Rhxh5,Rxh5,Qxh5', 'https://lichess.org/training/Fudtn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FuDYU', 'Rapid', 'Voin55115', 2222, 'Zeck', 2351, 'd4,d6,Bf4,g6,Nc3,Bg7,Qd2,a6,f3,b5,e4,Bb7,Nh3,Nd7,O-O-O,Rc8,e5,b4,Na4,a5,Ng5,h6,Ne4,Bc6,b3,Bxa4,bxa4,d5,e6,fxe6,Nc5,Nxc5,dxc5,g5,Bg3,Qd7,c6,Qd8,Qe3,Kf7,Re1,Bf6,Qxe6+,Kg7,Bd3,Qe8,Ba6,Ra8,Bb7,h5,Bxa8,Qxa8,Bxc7,Qa6,Be5,Qc4,Bxf6+,exf6,Kb1,Nh6,Qe7+,Nf7,Re6,Qc3,c7,Rc8,Rhe1', 'Rxc7,Qxf6+,Qxf6,Rxf6,Kxf6', 'https://lichess.org/training/FuDYU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUfc9', 'Rapid', 'NN-CHESS', 1858, 'warajuarez', 1750, 'd4,Nf6,c4,b5,e3,bxc4,Bxc4,d5,Bd3,Ba6,Nc3,c6,Qe2,Bxd3,Qxd3,e6,a3,Nbd7,Nge2,Bd6,O-O,Qc7,g3,Rb8,Rb1,e5,f3,exd4,Qxd4,c5,Nxd5,Nxd5,Qxd5,O-O,e4,Nf6,Qf5,Rfe8,Bf4,Bxf4,Nxf4,c4,Rfc1,Re5,Rxc4', 'Qb6+,Kg2,Rxf5', 'https://lichess.org/training/FUfc9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fUfIQ', 'Rapid', 'paultomasi', 1646, 'vladimir74', 1667, 'e4,g6,e5,Bg7,d4,b6,Qf3,c6,Bc4,e6,Bf4,b5,Bd3,Ne7,c4,Ba6,cxb5,Bxb5,Nc3,Bxd3,Qxd3,O-O,Nf3,Qa5,O-O,Nd5,Bd2,Nxc3,bxc3,Qc7,Rab1,a5,a4,Na6,Rb3,c5,Rfb1', 'c4,Qe2,cxb3', 'https://lichess.org/training/fUfIQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fuG1I', 'Blitz', 'Dennis_Wli', 1565, 'facundol', 1552, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,d6,Bb5,Bd7,Nxc6,bxc6,Ba4,Qa5+,Bd2,Qxa4,O-O,c5,Nc3,Qa6,Qg4,g6,f4,Bg7,Qf3,Rb8,f5,exf5,exf5,Bxf5,Rae1+,Ne7,g4,O-O,Rxe7,Bxc2,Rxf7,Bd4+,Kh1,Qb7,Qxb7,Rxb7,Rxf8+,Kg7,Rc8,d5,h4,Rxb2,Nxd5,Be4+,Kh2,Rxd2+,Kh3,Bxd5,Rb1,Be5,Rb7+,Kh6', 'g5+,Kh5,Rxh7#', 'https://lichess.org/training/fuG1I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FuIVH', 'Rapid', 'Yarch1S', 968, 'pelisek16', 880, 'g3,e5,d4,Nc6,Nf3,f6,d5,Nce7,e4,f5,Nxe5,c6,dxc6,Nxc6,Nxc6,bxc6,exf5,Ne7,g4,a5,c3,Ba6,Bxa6,Rxa6,Bg5,c5,O-O,Rf6,Bxf6,gxf6,Re1,d5,b4,axb4,cxb4,cxb4,Qa4+,Kf7,Qxb4,h5,gxh5,Rxh5,Qg4', 'Rg5,Qxg5,fxg5', 'https://lichess.org/training/FuIVH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fUJFw', 'Blitz', 'Kist', 1769, 'emrkyl', 1507, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,Nf6,Re1,a6,Ba4,O-O,c3,b5,Bb3,Bc5,d4,exd4,cxd4,Bb6,Bg5,d6,e5,dxe5,dxe5,Qxd1,Rxd1,Ne4,Bf4,Nxf2,Rf1,Nd3+,Kh1,Nxf4,Nc3,Bf5,Nh4,Bd3,Rxf4,g5,Rg4,h6,e6,fxe6,Bxe6+,Kg7,Rd1,Ne5,Rg3,Bc4,Nf5+,Kh7,Rd7+,Kh8,Rh3,Bxe6', 'Rxh6+,Kg8,Rg7#', 'https://lichess.org/training/fUJFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fUjM0', 'Blitz', 'MARK0007', 1688, 'Hassael', 1670, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,Be7,Nc3,Nxc3,dxc3,O-O,Be3,Nc6,Qd2,Be6,Bb3,a5,a4,Bxb3,cxb3,f5,h4,Ne5,h5,Nxf3+,gxf3,c5,O-O-O,Qb6,Rdg1,Qxb3,Bh6,Rf7,Bxg7,Rxg7,Rxg7+,Kxg7,h6+,Kh8,Qf4,Qa2,Kc2,Qd5,Qg3,Rg8,Qh3,c4,Rd1,Qc6,Qxf5,Qxa4+,Kb1,Qc6,Re1,Rf8,Qe6,Qxf3,Qxe7,Qf6', 'Qxf6+,Rxf6,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/fUjM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUJrd', 'Blitz', 'Kisel70', 2108, 'Bubbles11', 2085, 'c4,g6,d4,f5,g3,Nf6,Bg2,Bg7,Nf3,O-O,O-O,d6,Nc3,Nc6,d5,Na5,Qd3,c5,dxc6,Nxc6,Bg5,h6,Bd2,Be6,Nd5,Bxd5,cxd5,Ne5,Qb3,Kh7,Nd4,Qb6,Qxb6,axb6,Ne6,Rfc8,Bc3,Ne4,Bxe4,fxe4,f4,exf3,exf3,Rxc3,bxc3,Ra3,Rab1,Rxc3,Rxb6,Nxf3+,Kg2,Ne5,Rxb7,Bf6,a4,Kg8,a5,Ra3,Ra7,Ra2+,Kh3,g5,Rxf6', 'g4+,Kh4,Rxh2#', 'https://lichess.org/training/FUJrd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FuJyM', 'Classical', 'doctorpi', 1796, 'LeFlo', 1760, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Bg4,Be2,Nf6,Bd2,Qc7,h3,Bh5,O-O,e6,Bg5,Nbd7,Ne5,h6', 'Bxh5,hxg5,Bxf7+', 'https://lichess.org/training/FuJyM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fuKVs', 'Blitz', 'abelovic', 1884, 'Mar1an23', 1779, 'Nf3,d5,d4,c5,e3,Nc6,c4,e6,Nc3,Nf6,Be2,b6,O-O,Bb7,b3,Bd6,Bb2,O-O,h4,h6,Nh2,Qe7,g4,Ne4,Nf3,f5,g5,hxg5,Nxe4,g4,Neg5,gxf3,Bxf3,Rf6,cxd5,exd5,Bxd5+,Kh8,Qh5+,Rh6,Nf7+,Kh7,Nxh6,gxh6,Qxf5+,Kh8,Bxc6,Rg8+,Kh1', 'Qxh4+,Qh3,Qxh3#', 'https://lichess.org/training/fuKVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fungp', 'Rapid', 'OmegaRugal', 1789, 'jagindas', 2041, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Bc4,e6,Nxc3,Bb4,Qb3,Bxc3+,Qxc3,Nf6,Bg5,h6,Bh4,Qa5,Qxa5,Nxa5,Bd3,g5,Bg3,Ke7,O-O,b6,e5,Nd5,Be4,Bb7,Rfe1,Rac8,h4,g4,Nd2,h5,f3,Rhg8,b4,gxf3,bxa5,Rxg3,Bxf3,Rc2,Ne4,Rg8,Nf6,Rg3,Nxh5,Rg6,Be4,Rh6,Bxc2,Rxh5,g3,Rh8,Be4,Rg8,Kh2,bxa5,Rab1,Bc6,Rec1,Rg4,Bxd5,Bxd5,Rc7,Re4,Rxa7,a4,a3,Re2+,Kh3,Ra2,Rxa4,f5,Rc1', 'Bg2+,Kh2,Bc6+,Kg1,Bxa4', 'https://lichess.org/training/fungp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUnIC', 'Blitz', 'qkxwsm', 1925, 'pouriaaaaa', 1674, 'f4,d6,Nf3,b6,e3,Bb7,Be2,Nd7,O-O,g6,d4,Bg7,Qe1,Ngf6,b3,O-O,Bb2,Re8,Nbd2,e5,f5,e4,Ng5,d5,Qh4,Nf8,Ba3,N6d7,fxg6,hxg6,Rxf7,Qxg5,Qxg5,Kxf7,Rf1+,Bf6,Bg4,Kg7,Qf4,Bc8,Bxf8+,Rxf8,Qxc7,Ba6,Qxd7+,Rf7,Qe6,Bxf1,Nxf1,Raf8,Qxd5,Bxd4,Be2', 'Rxf1+,Bxf1,Bxe3+,Kh1,Rxf1#', 'https://lichess.org/training/FUnIC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUNme', 'Blitz', 'FM harunov', 2291, 'Okayyyy', 2244, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,cxd4,cxd4,f6,f4,fxe5,dxe5,Nc5,Bb1,Qb6,Nf3,Ne4,Ned4,Bd7,Nxc6,bxc6,Bxe4,dxe4,Ng5,Bb4+,Kf1,c5,Nxe4,Bb5+,Kf2,O-O,a3,Qb7,Nd6,Qc6,axb4,cxb4,Qf3,Qc2+,Kg3,Bc6,Qf2,Qg6+,Kh3,Qh5+,Qh4', 'Bxg2+,Kxg2,Qxh4', 'https://lichess.org/training/FUNme');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fuoZs', 'Rapid', 'Arslene', 1535, 'Maritim', 1702, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,e5,Ng4,d4,c5,c3,cxd4,cxd4,c5,Be2,h5,h3,Qh4,O-O,cxd4,hxg4', 'hxg4,Bb5+,Bd7,Bxd7+,Kxd7', 'https://lichess.org/training/fuoZs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fuq8b', 'Blitz', 'Krawall24', 2360, 'NM Loy_Konstantin', 2471, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,Bxa6,Nc3,d6,e4,Bxf1,Kxf1,g6,g3,Bg7,Kg2,O-O,Nf3,Nbd7,a4,Qb6,Qc2,Rfb8,Nd2,Ne8,b3,Nc7,Rb1,Na6,Nc4,Qb7,Na5,Qb4,Nc6,Qxc3,Qxc3,Bxc3,Nxb8,Rxb8,Bg5,Bf6,Bxf6,Nxf6,f3,Nd7,h4,f6,f4,Nb4,h5,Kg7,hxg6,hxg6,Kf3,Nc2,a5,Nd4+,Ke3,Ra8,Ra1,Nc2+,Kd3,Nxa1,Rxa1,Nb8,Kc4,Na6,Kb5,Kf7,Kb6,Nb4,a6,Nxa6,Rxa6,Rb8+,Kc6,Rxb3,e5,fxe5,fxe5,dxe5,Ra7,Rxg3,d6,c4,Rxe7+,Kf6,Rc7,c3,d7,Rd3,Kb7,Ke7,Kc8,e4,Rc4,e3,Re4+,Kf6,d8=Q+', 'Rxd8+,Kxd8,c2', 'https://lichess.org/training/fuq8b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUqbP', 'Rapid', 'Holmes047', 1797, 'Vivek_Anand', 1779, 'e4,c6,Nc3,d5,d4,e6,Be2,Bb4,Nf3,Nf6,O-O,Bxc3,bxc3,Nxe4,Bb2,Nd7,c4,O-O,Re1,f5,cxd5,exd5,c4,b6,Rc1,Ng5,cxd5,cxd5,Bd3,Nxf3+,Qxf3,Nf6,Bxf5,Bxf5,Qxf5,Kh8,Ba3,Rf7,Re5,b5,Rce1,Qa5,Qxf6,Rxf6,Re8+,Rf8,Bxf8,Rxe8', 'Rxe8,Kg8,Bb4+', 'https://lichess.org/training/FUqbP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fuRak', 'Rapid', 'Abrakadabraka', 1906, 'dedelagachette13', 1880, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Be7,Bxf7+,Kxf7,fxe5,Nxe5,Nxe5+,dxe5,O-O+,Ke8,Qh5+,g6', 'Qxe5,Nf6,Rxf6', 'https://lichess.org/training/fuRak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fusgW', 'Blitz', 'Slimslik02', 2164, 'SunoftheBeach', 2457, 'c4,Nf6,Nc3,e6,Nf3,d5,g3,Be7,d4,O-O,Bg2,dxc4,O-O,c6,Ne5,b5,Nxb5,cxb5,Bxa8,a6,Bg2,Nfd7,a4,Nxe5,dxe5,Qb6,axb5,axb5,Be3,Qc7,Ra7,Qd8,Qxd8,Bxd8,Ra8,Bc7,Bc5,Rd8,Bd6,Bxd6,exd6,Bd7,Rfa1,Kf8,R1a7,Ke8,Rc7,f5,f4,g6,Kf2,h6,Ke3,Kf8,Kd4,Be8,Ke5,Nd7+,Kxe6', 'Bf7#', 'https://lichess.org/training/fusgW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUSO8', 'Rapid', 'chape', 2033, 'geodej', 1962, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,Nxe4,Re1,Nc5,Nxe5,Nxe5,Rxe5+,Ne6,d4,Bd6,Re1,O-O,c3,Bb7,Qd3,Re8,Bc2,Ng5,Rxe8+,Qxe8,Bxg5', 'Qe1+,Qf1,Bxh2+,Kxh2,Qxf1', 'https://lichess.org/training/FUSO8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUt3Q', 'Classical', 'Will7747', 1611, 'Joseoporto', 1631, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bg5,h6,Be3,Nxd4,Bxd4,e5,Be3,Be6,Bd3,d5,exd5,Nxd5,Nxd5,Qxd5,O-O,a6,c4,Qd6,a3,Be7,b4,O-O,Ra2,b5,Rd2,bxc4', 'Bh7+,Kxh7,Rxd6', 'https://lichess.org/training/FUt3Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fUtqr', 'Rapid', 'lucasignacio1977', 1978, 'lahtneilil', 2029, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,c6,c4,Nb6,Nc3,Bg4,Be2,e6,Bg5,Be7,Bxe7,Qxe7,b3,N8d7,O-O,h5,Re1,h4,h3,Bf5,Bd3,Qf6,Bxf5,Qxf5,Ne4,Nc8,Neg5,Ne7,Qd2,O-O-O,Ne5', 'Nxe5,Rxe5,Qxe5', 'https://lichess.org/training/fUtqr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FuuF2', 'Rapid', 'xeroxx', 2209, 'Valera1951', 2127, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,f3,O-O,Be3,Nc6,Qd2,Bd7,O-O-O,Qa5,Kb1,Rfc8,Bb3,Ne5,Qe2,Rxc3,bxc3,Qxc3,Qd2,Qc7,h4,h5,Rc1,Nc4,Qe2,Nxe3,Qxe3,b5,c4,Qb7,cxb5,Bxb5,Nxb5,Qxb5,Rc7,a5,a4,Qb4,Qc3,Qb6,Rc8+,Rxc8,Qxc8+,Kh7,Qc4,e6,Rc1,Nd7,Ka2,Nc5,Qb5,Qd8,Rd1,Qf6,Rb1,Qc3,Qc4,Qd2+,Qc2,Qd4,Rd1,Qe5,Ka3,Bf6,g4,hxg4,fxg4,Qxe4,Qxe4,Nxe4,Bc2,d5,h5,gxh5,Rh1,Kg7,Rxh5,Nd6,g5,Bc3,Rh7+,Kg8,g6,fxg6,Bxg6,Bb4+,Kb3,e5,Rh5,e4,Rxd5,e3,Bd3,Kf7,Rh5,Bd2,Kc2,Ke6,Kd1,Nb7,Bc4+,Kd6,Ke2,Nc5,Bb5,Nb3,Rh8,Kc5,Rd8,Nd4+,Kf1,Nxb5,axb5,Kxb5,Ke2,Kc4,Rb8,a4,Rc8+,Kb3,Rb8+,Ka2,Rb7,a3,Rb5,Bc1,Kd1,Bb2,Rb7', 'Kb1,Ra7,a2', 'https://lichess.org/training/FuuF2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fuuro', 'Blitz', 'Dima_Koval-2009', 1877, 'Ste_4kin666', 1661, 'e4,d5,Bb5+,c6,Ba4,b5,Bb3,dxe4,Qh5,g6,Qe5,Nd7,Qxh8,c5,Qxg8,Nf6,Qxf7+,Kd7,Be6+,Kc7,Nc3,Bxe6,Nxb5+,Kb6,Qxe6+,Kb7,Ne2,Rc8,Nec3,c4,Na4,Nd5,Qxe4,e6,Nac3,Ka6,Nd4,Nb4,Qxe6+,Kb7,Qe4+,Kb8,a3,Bc5,Ndb5,Nxc2+,Qxc2,a6,Qa4,axb5,Nxb5,Qd7,d3,Re8+,Kf1', 'Qxd3+,Kg1,Re1#', 'https://lichess.org/training/fuuro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUuw1', 'Blitz', 'PetterOlaussen20', 2203, 'rabbitson', 2267, 'e4,g6,d4,Bg7,c3,d6,Bd3,Nd7,Nf3,e5,h3,Ngf6,O-O,O-O,Re1,Qe7,Bg5,h6,Bxf6,Bxf6,Nbd2,Bg7,Nb3,a5,a4,b6,Nbd2,Bb7,Nc4,Rfe8,dxe5,dxe5,Ne3,Nc5,Bc2,Bxe4,Bxe4,Nxe4,Nd5,Qc5,Rxe4,Rad8,c4,c6,Qe2,cxd5,cxd5,Qxd5,Re1,f5,Rc4,e4,Nh2,Bd4,Rc7,Bc5,Qa6,Qd2,Rf1,e3,fxe3,Rxe3,Kh1,Re1,Qc4+,Kh8', 'Qf7,Be7,Rxe7,Rxe7,Qxe7', 'https://lichess.org/training/FUuw1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FuUYj', 'Rapid', 'manini', 1956, 'sidmadan', 1749, 'e4,c5,Bc4,Nc6,b4,d6,b5,Ne5,Be2,e6,f4,Nd7,Nf3,Nb6,a4,a5,bxa6,bxa6,a5,Nd7,Bb2,Ngf6,e5,dxe5,Nxe5,Nd5,O-O,Bd6,Nc6,Qc7,Ne5,Nxe5,fxe5,Bxe5,Bxe5,Qxe5,Na3,O-O,Bf3,Qc7,c4,Bb7,cxd5,Bxd5,Nc2,Rad8,Qe2,Rd7,Qxa6,Bxf3,Rxf3,Rxd2,Ne3,Rfd8,Qb6,Qe5,Ra2,R2d6,Qb2,Qe4,Rg3,g6,Qc2,Rd3,Ra4', 'Rd1+,Qxd1,Rxd1+', 'https://lichess.org/training/FuUYj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FuV6M', 'Blitz', 'FM Ahmdnjr12512', 2256, 'Chess-Terminator', 1898, 'e4,c6,d4,d5,exd5,cxd5,Nf3,e6,Bd3,Bd6,O-O,Nf6,c3,h6,Ne5,O-O,Bf4,Nc6,Nd2,a6,Ndf3,Nh5,Bg3,Nxg3,hxg3,f6,Ng6,Rf7,Qe2,Bd7,Rae1,Qc7,Bb1,Re8,Qc2,f5,Nge5,Nxe5,Nxe5,Bxe5,Rxe5,Rf6,Rfe1,Bc8,Qd2,Qf7,Qf4,Qg6,f3,Re7,Qh4,Qg5,a3,Qxh4,gxh4,g5,hxg5,hxg5,Kf2,Rh7,Ba2,g4,Bxd5,gxf3,Kxf3', 'exd5,Re8+,Rf8', 'https://lichess.org/training/FuV6M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fuvWN', 'Blitz', 'ahmedamen', 1725, 'dinolion', 1712, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Nf6,Bc4,Nc6,Nf3,d6,O-O,Bg4,Bg5,Be7,Bxf6,Bxf6,Nd5,Ne5,Nxf6+,Qxf6,Qb3,O-O,Nxe5,Qxe5,Qxb7,c5,Bd5,Rab8,Qxa7,Rxb2,a4,Be6,a5,Bxd5,exd5,Qxd5,a6,Ra8,Qc7,Ra2,a7,Rxa1', 'Qb8+,Rxb8,axb8=Q#', 'https://lichess.org/training/fuvWN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUWfh', 'Rapid', 'Maxo_o', 1779, 's7saena', 1675, 'd4,d5,c4,dxc4,e3,b5,a4,Bd7,Nc3,bxa4,Bxc4,e6,Nf3,Bb4,O-O,Bxc3,bxc3,Nf6,Ne5,O-O,Nxd7,Nbxd7,Qxa4,Nb6,Qa2,Nxc4,Qxc4,Qd5,Qxc7,Rfc8,Qa5,Qxa5,Rxa5,Rxc3,Bd2,Rc2,Bb4,Ne4,f3,Nd2,Bxd2,Rxd2,Rb1,h6,Rba1,Re2,Rxa7,Rxa7,Rxa7,Rxe3,Kf2,Rd3,Ra4,Kh7,Ke2,Rb3,Kf2,Kg6,Kg3,Kf5,h3,Rd3,Kh4,Kf4,d5+,Ke3,Re4+,Kf2,dxe6,fxe6,Rxe6,Rd4+,Kh5,Kxg2,Rg6+,Kxh3,Rxg7,Rh4+,Kg6,Kg3,Rf7,h5,Kg5,Rh1,f4,h4,Rh7,h3,f5,h2,f6,Rf1,f7', 'Rxf7,Rxf7,h1=Q', 'https://lichess.org/training/FUWfh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUWKN', 'Bullet', 'UgandanDrugLord69', 1812, 'Zgh', 1802, 'b3,Nf6,Bb2,g6,Nf3,Bg7,e3,O-O,h4,d6,d4,Nc6,Bd3,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Re8,Bb2,Bg4,f3,Rxe3+,Kd2,Bxf3,gxf3,Qe7,Re1,Rxe1,Qxe1,Qb4+,c3,Qf4+,Qe3,Qh2+,Qe2,Qxh4,Na3,Bh6+,Kc2,Re8,Qd1,Qf2+,Kb1,Nd5,Nc2,Ne3,Nxe3', 'Rxe3,a3,Re1,Qxe1,Qxe1+', 'https://lichess.org/training/FUWKN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FuxNU', 'Blitz', 'breetak', 1783, 'heartlandchess', 1900, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d5,e3,c6,cxd5,cxd5,Bd3,O-O,b3,Nc6,Ba3,Bg4,h3,Bxf3,Qxf3,Qa5,Bb2,Nb4,Qe2,Rac8,O-O,e6,Rfc1,a6,e4,Nxd3,Qxd3,Bh6,Re1,dxe4,Nxe4,Nd5,Qf3,Rc2,Reb1,Nf4,Nf6+,Kg7,Ng4,Ne2+,Kh1,Bg5,d5+,f6,dxe6,Qd2,e7,Re8,Bxf6+,Bxf6,Qxf6+,Kg8,Rd1,Qf4,Rd8,Rc1+,Rxc1', 'Qxc1+,Rd1,Qxd1+,Kh2,Qg1#', 'https://lichess.org/training/FuxNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUXo6', 'Blitz', 'FM sandi_s', 2374, 'Stealthx3d', 2413, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nf3,Nc6,Be3,Bg4,Be2,e5,d5,Bxf3,gxf3,Nd4,Bxd4,exd4,Qxd4,Be7,Nc3,O-O,f4,Nd7,Qe3,Bc5,Qg3,Re8,e5,c6,dxc6,bxc6,O-O-O,Qe7,Bc4,Rab8,Rhg1,g6,Ne4,Kg7,h4,Nb6,Bb3,Red8,h5,Rxd1+,Rxd1,Nd5,Bxd5,cxd5,Rxd5,Rc8,Nxc5,Rxc5+,Rxc5,Qxc5+,Kb1,Qd4,hxg6', 'Qd1#', 'https://lichess.org/training/FUXo6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FUYa8', 'Classical', 'mohammadarmoon', 1802, 'KimDimSan', 1886, 'e4,e5,c3,g6,d3,Bg7,Be2,Nf6,Be3,O-O,Nf3,d6,O-O,Nc6,Nbd2,Bg4,Nh4,Bxe2,Qxe2,Nxe4,Nxg6,Nxd2,Nxf8,Nxf1,Ne6,Ng3,Qg4,Ne2+,Qxe2,fxe6,Qg4,Qf6,Rf1,Rf8,f4,b6,Rf3,Ne7,h4,Qg6,Qh3,Nf5,h5,Qh6,g4,Nxe3', 'g5,exf4,gxh6', 'https://lichess.org/training/FUYa8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fv2gc', 'Rapid', 'darhne', 1976, 'Babken-Martoyan', 1969, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Nf6,Nc3,g6,d4,exd4,Nxd4,c5,Nf3,Bg7,O-O,O-O,Bg5,Qd7,Re1,Re8,Qc1,Qe6,Bh6,Nd7,Bxg7,Kxg7,Nd5,Ne5,Nxe5,Qxe5,Nxc7,Bb7,Nxa8,Bxa8,c3,Qh5,Qf4,Re5,Rad1,g5,Qg3,Rxe4,Qxd6,Rf4,Qe5+,Rf6,Rd6,Qg6,Rxf6,Qxf6,Qxf6+,Kxf6,g3,h6,Kh2,h5,h4,g4,Re3,a5,a3,Bd5,Kg1,Kf5,Kf1,f6,Ke1,Be4,Kd2,c4,Re1,a4,Ke3,Bc2,Kd4,Bb3,Re3,Ba2,f3,Bb3,fxg4+,Kxg4,Ke4,f5+,Ke5,Ba2,Kd5,Bb3,Ke6,Ba2,Re5,Kxg3,Rxf5,Kxh4,Kf6,Kg4,Rg5+,Kh4,Kg6,Bb3,Rxh5+,Kg4,Rc5,Kf4,Rd5,Ke4,Rd8,Ke5,Rd2,Ba2,Kf7,Bb3,Ke7,Ba2,Re2+,Kd5,Kd7,Kc5,Re5+,Kb6,Re6+,Kb5,Kd6,Bb3,Re5+,Kb6,Kd5,Ba2,Re6+,Kb5,Rc6,Bb3,Rc5+,Kb6,Rxc4', 'Kb5,Kd4,Bxc4', 'https://lichess.org/training/fv2gc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fv2Gq', 'Rapid', 'deckimati', 1885, 'chuyartist', 1829, 'e4,c5,Bc4,d6,d4,cxd4,c3,dxc3,Nxc3,Nf6,e5,dxe5,Bxf7+,Kxf7,Qxd8,Bd7,Qa5,Nc6,Qa4,Nd4,Qd1,e6,Nf3,Bc5,Be3,Nxf3+,gxf3,Bxe3,fxe3,Rhf8,Ne4,Nd5,Nd6+,Kg8,Ke2,b6,Nc4,Bb5,b3,Nc3+,Kf2,Nxd1+,Raxd1,e4,f4,Rac8,Nd6,Rc2+,Kg3,Bd3,a3,Rf6,Rc1,Rg6+,Kh3,Rh6+,Kg3,Rg6+,Kh3,Rh6+,Kg4,Rg6+,Kh5,Be2+,Kh4,Rh6+,Kg3,Rg6+,Kf2,Bd3+', 'Rxc2,Bxc2,Rc1', 'https://lichess.org/training/Fv2Gq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fv5e0', 'Blitz', 'GM Macrofago', 2654, 'zeppled', 2151, 'e4,c5,Nc3,a6,g4,b5,Bg2,Bb7,d3,e6,Nh3,h5,g5,Be7,O-O,g6,f4,b4,Na4,Nc6,b3,Qc7,Bb2,Rh7,f5,exf5,exf5,gxf5,Qf3,O-O-O,Qxf5,Rh6,gxh6,Nxh6,Qxh5,Rg8,Rf2,Ng4,Rf4,f5,Qf7,Rf8,Qh7,Bd6,Rxf5,Bxh2+,Kh1,Rxf5,Qxf5,Bg1,Kxg1', 'Qh2+,Kf1,Ne3+', 'https://lichess.org/training/fv5e0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fv7Nr', 'Rapid', 'bandoummusic', 1853, 'fikro', 1848, 'e4,g6,d4,e6,Nf3,c6,Nc3,d5,exd5,exd5,Bg5,f6,Bh4,Bg7,Be2,Ne7,O-O,O-O,Qd2,Nf5,Rfe1,Nxh4,Nxh4,f5,Nf3,Nd7,Bd3,Nf6,h3,Ne4,Bxe4,fxe4,Nh2,Qf6,Red1,Bf5,Ne2,Rf7,Ng3,Bd7,c3,Raf8,Rf1,h5,f3,h4,Ne2,exf3,Rxf3,Qd8,Raf1,Rxf3,Rxf3,Rxf3,Nxf3,Qf6,Qe3,Qf5,Nxh4,Qb1+,Qc1,Qxa2,Nxg6,Bf6,Qf4', 'Qb1+,Kh2,Qxg6', 'https://lichess.org/training/Fv7Nr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fv85Q', 'Classical', 'hagga1', 1698, 'De_vinci', 1697, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,Bxc3+,bxc3,b6,Bd3,Bb7,Nf3,d6,O-O,Nbd7,Qc2,Qe7,a4,a5,e4,O-O-O,e5,dxe5,dxe5,Bxf3,exf6,Qxf6,gxf3,Qxf3,Be4,Qf6,Be3,Ne5,c5,Nc4,cxb6,Nxe3,b7+,Kb8,fxe3,Qg5+,Kh1,Qxe3,Rae1,Qh6,Qe2', 'Rd2,Qxd2,Qxd2', 'https://lichess.org/training/fv85Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FV9Oi', 'Classical', 'k123456788', 1800, 'V_Mayakovsky', 1787, 'e4,c6,Nf3,d5,e5,Bg4,d4,Nh6,Be2,Nf5,Nbd2,Qb6,c3,e6,h3,Bxf3,Nxf3,Nd7,O-O,Be7,Bd3,O-O-O,Ng5,Rdf8,b4,h6,Nf3,g5,Re1,Rhg8,Bxf5,exf5,e6,Nf6,exf7,Rxf7,Ne5,Rh7,Qf3,f4,Ng4,Qc7,Nxf6,Bxf6,Qg4+,Qd7,Qe6,Re7', 'Qxg8+,Qd8,Qxd8+', 'https://lichess.org/training/FV9Oi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvA0g', 'Rapid', 'zashem', 1835, 'Yakovlev', 1847, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Ne5,Nbd7,Nd2,Bxe5,dxe5,Ng8,c3,Ne7,Nf3,Ng6,Bg3,c6,Qc2,Qc7,Bd3,Ngxe5,Nxe5,Nxe5,Bxh7,g6,Bxg6,fxg6,f4,Nc4,Qxg6+,Qf7,Qc2,Nxe3,Qe2,Nf5,Bf2,Bd7,O-O-O,O-O-O,Bxa7,Kc7,Qe5+,Nd6,Bc5,Bc8', 'Bxd6+,Rxd6,Qxh8', 'https://lichess.org/training/fvA0g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvaiJ', 'Classical', 'Vadim_Snitsarev', 2224, 'i_am_a_normal_person', 2036, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,c5,cxd5,exd5,Nf3,Nc6,dxc5,Bxc5,e3,Be6,Bb5,O-O,O-O,a6,Ba4,h6,Bxf6,Qxf6,Bb3,Rad8,Rc1,Ba7,h3,d4,exd4,Nxd4,Nxd4,Bxd4,Qc2,Bf5,Qe2,Qg6,Qf3,b5,Rfd1,Ba7,Nd5,Be4', 'Ne7+,Kh7,Nxg6,Bxf3,Nxf8+', 'https://lichess.org/training/fvaiJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvBIV', 'Blitz', 'FM kasparicy', 2333, 'Yigit64sezer', 1792, 'e4,e6,d4,d5,Nd2,c5,Ngf3,Nc6,Bb5,Bd7,exd5,exd5,dxc5,Bxc5,O-O,Nge7,Nb3,Bb6,c3,a6,Bd3,O-O,Re1,Rc8,Bg5,Re8,Bh4,Bg4,Bxh7+,Kxh7,Ng5+,Kg8,Qxg4,Ng6,Qh5,Nce7,Nd4,Bxd4,cxd4,Nxh4,Qh7+,Kf8,Qh8+,Ng8', 'Nh7#', 'https://lichess.org/training/fvBIV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvbV3', 'Blitz', 'FM StoreySniper', 2379, 'Entkoter', 2293, 'e4,c5,Nf3,e6,c3,Nf6,e5,Nd5,d4,cxd4,Qxd4,Nc6,Qe4,f5,exf6,Nxf6,Qc2,Bc5,Bd3,O-O,O-O,h6,b4,Bb6,b5,Ne7,Ba3,Rf7,Nbd2,d5,Rae1,Bd7,Ne5,Qf8,Ndf3,Rc8,Nxf7,Qxf7,Ne5,Qe8,Bg6,Nxg6,Qxg6,Qxg6,Nxg6,Bxb5,Rxe6,Bxf1,Kxf1,Kf7,Nf4,Bc5,Bxc5,Rxc5,Re3,Ne4,Nxd5', 'Nd2+,Ke2,Rxd5', 'https://lichess.org/training/fvbV3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fVcDW', 'Rapid', 'nikosadallas', 2162, 'zzubra', 2146, 'e4,c5,d4,cxd4,c3,e6,cxd4,d5,Nc3,dxe4,Nxe4,Nc6,Nf3,Nf6,Nc5,Be7,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/fVcDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fVd94', 'Blitz', 'FM Mortn', 2389, 'Tonne1983', 2393, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Qc7,O-O,Nc6,Nb3,Nf6,Nc3,b5,Qe2,b4,Nd1,Be7,f4,d6,Bd2,a5,Be3,O-O,Nf2,a4,Nd4,Nxd4,Bxd4,e5,Be3,d5,exd5,Nxd5,Bxh7+,Kxh7,Qd3+,Kg8,Qxd5,Bb7,Qxe5,Bd6,Qg5,Qxc2,Bd4,f6,Qg4,Rae8,Rac1,Qe2,Qg3,a3,bxa3,bxa3,Ng4,Kf7,Qb3+,Kg6,f5+,Kh7,Nxf6+,gxf6,Qxb7+,Re7,Qd5,Rd8,Kh1,Bc7,Qc5,Rg7,Rf2,Qh5,Qxc7,Rxd4,Qc3,Rd1+,Rf1,Rd5,Qxa3,Rxf5,Rxf5,Qxf5,Qf3,Qxf3,gxf3,Ra7,Ra1,Ra3,Kg2,Kg6,Kf2,Kf5,h4,Kf4,Ke2,Re3+,Kd2,Rxf3,a4,Rh3,a5,Rxh4', 'Ra4+,Kg5,Rxh4', 'https://lichess.org/training/fVd94');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FvdcX', 'Blitz', 'NM ultrahunter', 2375, 'arestant1', 2101, 'g3,g6,Bg2,Bg7,Nf3,Nf6,O-O,O-O,d4,d6,c4,Nc6,Nc3,a6,b3,Rb8,Bb2,b5,cxb5,axb5,Rc1,Ba6,Ne1,Na7,b4,Bb7,e4,e5,d5,c6,Nc2,cxd5,exd5,Rc8,Ne3,Nd7,Qe2,f5,Nxb5,Ba6,a4,f4,gxf4,exf4,Bxg7,Kxg7,Ng4,Rxc1,Rxc1,f3,Bxf3,Nxb5,axb5,Bxb5,Qb2+,Nf6,Re1,h5,Nxf6,Qxf6,Re7+,Kh6,Qd2+,Qg5+,Qxg5+,Kxg5,Kg2,Rf4,Re6,h4,h3,Rxb4,Be4,Kf4,Bxg6,Rd4,Rxd6,Rd1,Bf7,Bf1+,Kh2,Rd3,Rf6+,Ke5,Rh6,Rxh3+,Kg1,Bc4,Rh5+,Kd6,Be6,Rd3,Rxh4,Bxd5,Rh6', 'Rd1+,Kh2,Rh1+,Kg3,Rxh6', 'https://lichess.org/training/FvdcX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvfdC', 'Rapid', 'LDZN', 1923, 'Sir_Zocky_Rochester', 1937, 'd4,c5,d5,g6,c4,Bg7,Nc3,Bxc3+,bxc3,f5,Nf3,Qa5,Qc2,d6,g3,Nd7,Bg2,Nb6,Nd2,Bd7,O-O,Qa6,Qd3,O-O-O,a4,Nf6,Ba3,Ng4,f4,Nxa4,Rfb1,e6,dxe6,Bxe6,Bxb7+,Qxb7,Rxb7,Kxb7,Qb1+,Nb6,Nb3,Ka8,Na5,Rc8,Qb5,Bd7,Qa6,Rc7,Bc1,Re8,Nb3,Rxe2,Qxb6,Re1+,Kg2,Bc6+,Kh3,Nf2+,Kh4,Rh1,Qxc7', 'Rxh2+,Kg5,Ne4#', 'https://lichess.org/training/fvfdC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvG7j', 'Blitz', 'Nedetti89', 1692, 'adisChess2021', 1701, 'd4,d5,c4,Bf5,Nc3,e6,Nf3,Nf6,e3,Bb4,Qb3,Bxc3+,bxc3,b6,cxd5,exd5,Bb5+,c6,Be2,O-O,O-O,Nbd7,Nh4,Bg6,Nxg6,fxg6,c4,Qc7,Bb2,Kh8,cxd5,cxd5,Rac1,Qd6,Ba3,Qe6,Bxf8,Rxf8,Bb5,Ne4,Rfd1,Nxf2,Rf1,Ne4,Rxf8+,Nxf8,Rc6,Qf7,Rc8', 'Qf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/fvG7j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FVgMr', 'Rapid', 'pyep', 2035, 'xavier889', 2091, 'd4,f5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,b6,a4,Bb7,a5,O-O,e3,Ne4,Nxe4,fxe4,Bxe7,Qxe7,Ne5,d6,a6,Nxa6,Rxa6,Bxa6,Nc6,Qf6,Qc2,d5,cxd5,Bxf1,Rxf1,exd5,Ne5,Qd6,f4,exf3,gxf3,Qh6,Qb3,Rad8,Rf2,Rf5,Rc2,Rg5,Rxc7,Rg1+,Kd2,Qxh2+,Kd3,Qh1', 'Qxd5+,Rxd5,Rc8+,Rd8,Rxd8#', 'https://lichess.org/training/FVgMr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FVGPx', 'Rapid', 'Pauna', 1773, 'PASHAka', 1847, 'e4,e5,Bc4,Nc6,f4,Nf6,Nf3,d6,fxe5,Nxe4,exd6,Nxd6,Qe2+,Be7,Bb3,O-O,O-O,Re8,d3,Bg4,Qf2,Qd7,Nc3,b6,Be3,Nf5,Bf4', 'Bc5,Qxc5,bxc5', 'https://lichess.org/training/FVGPx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FVjdY', 'Blitz', 'CheckOreo', 2142, 'FM wejbimoo', 2382, 'e4,c5,Nf3,d6,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,a6,O-O,Nf6,Qe2,Bg4,h3,Bxf3,Qxf3,Ne5,Qe2,Nxc4,Qxc4,e6,Rd1,Rc8,Qb3,Qc7,Bf4,Be7,Rac1,Qb8,Na4,Rxc1,Rxc1,b5,Nc3,O-O,Rd1,b4,Ne2,Nxe4,Qd3,Nc5,Qc4,e5,Be3,Rc8,Bxc5,Rxc5,Qxa6,g6,Ng3,Rc2,Ne4,Rxb2,Nxd6,Bxd6,Rxd6,e4,g3,e3,Qd3,exf2+,Kf1,Qa7,Ra6,Qc5,Qd8+,Kg7', 'Qf6+,Kh6,Qxb2', 'https://lichess.org/training/FVjdY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvjM6', 'Classical', 'mehiar', 1780, 'Ordenoverbroen', 1962, 'e4,g6,d3,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg7,Ne4,Nc6,Nfg5,f5,Ng3,e5,Nf3,Nf6,Bg5,h6,Bd2,g5,Qe2,O-O,O-O-O,Re8,c3,e4,dxe4,Qe7,Nxf5', 'Bxf5,exf5,Qxe2,Bxe2,Rxe2', 'https://lichess.org/training/fvjM6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FVJSH', 'Rapid', 'Nilantgarg', 2125, 'AkkiRk', 2019, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nxc6,bxc6,Bd3,e5,O-O,Nf6,f4,Ng4,Qe2,exf4,Bxf4,Be7,h3,Nf6,e5,dxe5,Bxe5,O-O,Nc3,Re8,Qf3', 'Bc5+,Kh1,Rxe5', 'https://lichess.org/training/FVJSH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fVkJS', 'Bullet', 'Davidtrilckbegg', 2159, 'jamesparrilo', 2002, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,Be3,Be7,Qd2,Qc7,O-O-O,Nc6,Nb3,b5,a3,Bb7,Kb1,Ne5,f3,Nc4,Bxc4,bxc4,Nd4,d5,exd5,Nxd5,Nxd5,Bxd5,Nf5,Bf6,Bd4,O-O,Bxf6,gxf6,Qh6,exf5,Rd4,Rfb8,Rh4,Rxb2+,Kxb2,c3+,Kc1,Qd6,Qxh7+,Kf8,Qh8+,Ke7,Re1+,Be6,Qxa8', 'Qd2+,Kb1,Qxe1#', 'https://lichess.org/training/fVkJS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fVKXL', 'Rapid', 'sapchess', 1714, 'malashko', 1663, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,Nc3,Nc6,Nf5,b5,Ng3,Bb7,O-O,Ne5,Bg5,e6,a4,Be7,axb5,axb5,Bxb5+,Bc6,Bxc6+,Nxc6,Bxf6,gxf6,Rxa8,Qxa8,Nb5,Qb8,c4,e5,Nf5,Rg8,Nfxd6+,Bxd6,Nxd6+,Ke7,Nf5+,Kf8,Qd5,Ne7,Nxe7,Kxe7,Rd1,Rd8,Qc5+,Ke8,Rxd8+,Qxd8,Qc6+,Kf8,g3,Kg7,b4,Qd1+,Kg2,h5,Qc8,Qb1,b5,Qxe4+,Kh3,f5,Qc6,Qg4+,Kg2,f4,b6,h4,b7', 'h3+,Kf1,Qd1#', 'https://lichess.org/training/fVKXL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FVkxR', 'Blitz', 'FM MichaelBaron', 2518, 'CM PEDROPALTA', 2458, 'd4,d5,Nf3,Bf5,c4,c6,Nc3,Nf6,Qb3,Qb6,c5,Qxb3,axb3,Nbd7,b4,Ne4,b5,e5,e3,Be7,bxc6,bxc6,Ra6,Nb8,Ra3,Nxc3,bxc3,Nd7,Ba6,Rb8,O-O,O-O,h3,Rb1,c4,Nxc5,dxc5,Bxc5,Ra2,Bd3,Re1,dxc4,Bd2,Rxe1+,Bxe1,f6,Ra4,Rb8,Bxc4+,Bxc4,Rxc4,Rb5,g4,Kf7,Kg2,Ke6,Ra4,Kd5,Ra5,Rb1,Bd2,Kd6,Nh4,g6,Nf3,Bb6,Ra3,c5,Ra4,f5,gxf5,gxf5,Ba5,e4,Nd2,Rd1,Nc4+,Kc6,Bxb6,axb6,Ra7,b5,Ne5+,Kb6,Rd7', 'Rxd7,Nxd7+,Kc6,Ne5+,Kd5', 'https://lichess.org/training/FVkxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvmAQ', 'Blitz', 'FM asa76', 2514, 'azovolimp2017', 2105, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Ng5,h6,N5f3,Bg4,h3,Bh5,Bc4,e6,g4,Bg6,Qe2,Be4,Bf4,Be7,Be5,Bd5,Bb3,Bxb3,axb3,Nbd7,O-O-O,Qb6,Bxf6,Bxf6,Ne5,Bxe5,dxe5,O-O-O,Nf3,Nc5,Kb1,Rd5,Rxd5,cxd5,Rd1,Kb8,Nd4,Rc8,f4,Na6,c3,Nc5,b4,Ne4,Rc1,Rc4,f5,a6,fxe6,fxe6,Rc2,Ka7,Qf3,a5,b5,a4,Qf7,a3,Qxe6,axb2,Qxb6+,Kxb6,Kxb2,Nxc3,Rxc3,Rxd4,Re3,Rc4,e6,Rc8,Re5,Kc5,Kc3', 'Kd6+,Kd4,Rc4+,Kd3,Kxe5', 'https://lichess.org/training/fvmAQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FVn37', 'Rapid', 'chessmaster1X60D8', 1838, 'adzag', 1914, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Nc3,Qxe2+,Bxe2,Be7,O-O,O-O,Re1,Nc6,Bg5,Bd7,Nd2,Rae8,Bf3,Ne5,Bxb7,Rb8,Bd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/FVn37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvOci', 'Rapid', 'viniciusl', 1714, 'Ashkan-1989', 1717, 'e3,c5,b3,d6,Bb2,a6,Nf3,Nc6,Be2,e6,a3,Nf6,Ng5,Be7,d3,O-O,O-O,Nd5,Ne4,f5,Nec3,Nf6,Bh5,g6,Bf3,e5,Nd2,d5,e4,dxe4,dxe4,Nd4,Ne2,Nxf3+,gxf3,fxe4,Nxe4,Nxe4,fxe4,Bd6,f3,Bh3,Qd5+,Kh8,Rfd1,Qg5+,Kf2,Qg2+,Ke3,Rxf3+,Kd2,Rd8', 'Bxe5+,Bxe5,Qxd8+,Kg7,Qe7+', 'https://lichess.org/training/fvOci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fVOsd', 'Rapid', 'borste', 1789, 'Sokrateist', 1678, 'e4,e5,f4,Nc6,Nf3,f5,Nxe5,Nxe5,fxe5,Qh4+,Ke2,Qxe4+,Kf2,Qd4+,Kg3,Qxe5+,Kh3,d5,Be2,h5,g3,h4,Re1,hxg3+', 'Bh5+,Kd8,Rxe5', 'https://lichess.org/training/fVOsd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FVpfd', 'Rapid', 'blahamen', 2074, 'Tes_123', 2116, 'e4,e5,f4,Nc6,Nf3,d6,d4,Nf6,d5,Nb8,Bd3,Bg4,O-O,Nbd7,fxe5,Nxe5,Bb5+,c6,dxc6', 'Qb6+,Kh1,Qxb5', 'https://lichess.org/training/FVpfd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fVPoJ', 'Rapid', 'freidoon', 1660, 'akshayranade', 1602, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,Ng4,Qe2,Bb4+,c3,dxc3,bxc3,Bc5,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,d5,e6,Qe7,O-O,h6,Qh5+,Kf8,Re1,Kg8', 'Qf7+,Qxf7,exf7+,Kf8,Re8#', 'https://lichess.org/training/fVPoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvq6x', 'Rapid', 'FrereKeiser', 1764, 'marconealves', 1764, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nc4,Qxe4+,Qe2,Nc6,Qxe4+,Nxe4,Bd3,d5,Bxe4,dxe4,O-O,Nxd4,Nba3,b5,Ne5,Bxa3,bxa3,O-O,c3,Ne6,Re1,Bb7,Bb2,Nc5,Rad1,Na4,Ba1,c5,Nd7,c4,Nxf8,Rxf8,Rd7,Bc6,Rxa7,h6,Rd1,Nc5,Rd6,Be8,Kf1,f5,Bb2,Nd3,Ba1,f4,Ke2,e3,fxe3,Bh5+,Kd2,fxe3+,Kxe3,Re8+,Kd4,Re1,Ra8+,Kh7,Rd5,Bg6,Ra7', 'Re4#', 'https://lichess.org/training/fvq6x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvR6a', 'Rapid', 'Klacker24', 1679, 'z3t4', 1702, 'd4,Nf6,c4,e6,a3,c5,e3,d5,cxd5,exd5,Nc3,Nc6,Nf3,Be7,Be2,O-O,O-O,b6,Qc2,Bb7,b4,cxb4,axb4,Bxb4,Nb5,Ne4,Ba3,Bxa3,Rxa3,Qf6,Bd3,Qh6,Bxe4,dxe4,Qxe4,Nd8,Qc2,Bxf3,gxf3,Ne6,Rxa7', 'Qg5+,Kh1,Qxb5', 'https://lichess.org/training/fvR6a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fVre0', 'Rapid', 'Steve_Jamerson', 1699, 'mono04', 1745, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Bc4,Nxf3+,Qxf3,Qf6,Qb3,a6,Nc3,c6,d4,d6,d5,b5,dxc6,bxc4,Qxc4,Be6,Nd5,Qd8,a4,Bxd5,exd5,Nf6,Bg5,Qa5+,Bd2,Qxd5,Qxd5,Nxd5,b4,Nc7,O-O,d5,Rfe1,Bd6,f4,e4,c4,f5,b5,axb5,cxb5,Bc5+,Be3,d4,Bf2,O-O,Rec1,Bb6,Rc4,e3,Bh4,d3,Rd1,d2,Kf1,Rfe8,Ke2,Kf7,h3,Ke6,g4,Kd5,Rc3,Re4,gxf5,Rxf4,Rd3+,Ke4,Bg3,Rxf5,Rd7,Rg5,Re7+,Kd5,Bxc7,Rg2+,Kf3,Rf2+,Kg3,Bxc7+,Rxc7,e2,Rd7+,Ke6,R7xd2,exd1=Q,Rxd1,Rc2,Ra1,Rc3+,Kg2,Rd8,b6,Rd2+,Kf1,Rxc6,a5,Kd6,b7,Rb2,a6,Rcb6', 'a7,Rb1+,Rxb1', 'https://lichess.org/training/fVre0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FVRep', 'Classical', 'USER4023', 1684, 'EmrhRmc', 1647, 'd4,d5,Bf4,c5,Nf3,Nc6,c3,Nf6,h3,Bf5,e3,a6,Ne5,Ne4,Qa4,Bd7,Nxd7,Qxd7,Qc2,cxd4,exd4,g5,Be3,Bg7,Nd2,O-O,Nxe4,dxe4,Qxe4,f5,Qc2,f4,Bd2,e5,dxe5,Nxe5,O-O-O,Rfe8,Bxf4,Qf7,Bxg5,Qxa2,Qb1,Qa5,Bd3', 'Nxd3+,Qxd3,Qxg5+', 'https://lichess.org/training/FVRep');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fVrPk', 'Rapid', 'Przemur', 1797, 'Beyazit1956', 1887, 'd4,g6,e4,Bg7,Nc3,d6,Be3,c6,Qd2,Nf6,Bh6,O-O,Bxg7,Kxg7,Be2,b5,Bd3,Na6,a3,Qb6,Nf3,Bg4,Be2,Rad8,d5,cxd5,Nxd5,Nxd5,exd5,Nc5', 'Qd4+,Kg8,Qxg4', 'https://lichess.org/training/fVrPk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FVVwG', 'Rapid', 'Name42v2', 1816, 'Steker', 1810, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,d5,Nce7,Bxd7+,Qxd7,O-O,Nf6,Bg5,Nxe4,Bxe7,Bxe7,Qd3,Nc5,Qe3,h6,Nc3,O-O-O,b4,Na6,b5,Nc5,a4,Bg5,Qe2,Rde8,Qc4,f5,Rfb1,e4,Nd4,e3,Ne6,exf2+,Kxf2,Nxe6,dxe6,Qxe6,Nd5,Be3+,Kf1,Bc5,Re1,Qf7', 'Nb6+,cxb6,Qxf7', 'https://lichess.org/training/FVVwG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fVvYy', 'Blitz', 'decidement', 1970, 'DieVirus', 1934, 'e4,e5,Nc3,Nc6,Nf3,Bc5,d4,exd4,Nxd4,Bxd4,Be3,Bxe3,fxe3,d6,Bd3,Nf6,Qe2,Ne5,h3,O-O,O-O-O,Nxd3+,Qxd3,Re8,g4,Qe7,g5,Nxe4,Kb1,Nxc3+,Qxc3,c6,h4,d5,h5,Qxg5,h6,f6,Rdg1,Qxe3,Rxg7+,Kh8,Qb4,Bf5,a3,Bg6,Qxb7,Rab8', 'Rxh7+,Bxh7,Qg7#', 'https://lichess.org/training/fVvYy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fvWCp', 'Rapid', 'plassholder', 1805, 'neuquelino', 1780, 'e4,c5,Nf3,e6,d3,h6,d4,cxd4,Nxd4,Ne7,Nc3,a6,Bc4,b5,Bb3,Bb7,a3,d5,exd5,Nxd5,Nxd5,Bxd5,O-O,Be7,Qd3,O-O,Bf4,Bb7,Qg3,Kh7,Rad1,Qb6,Be5,g6,Qh3,Nc6,Bf4,Nxd4', 'Qxh6+,Kg8,Be5', 'https://lichess.org/training/fvWCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FVWSc', 'Blitz', 'ab-reshe-2008', 1870, 'Ever_Green_Warrior', 1986, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Nxd4,Nxd4,Qxd4,Nf6,O-O,Be7,h3,O-O,Nc3,b6,Nd5,h6,c3,Bb7,Be3,Rc8,Nxe7+,Qxe7,f3,Rfd8,Rae1,Qf8,Bxh6,c5,Qxf6,gxf6,Bxf8,Kxf8,Rd1,Ke7,Bd5,Ba6,c4,b5,cxb5,Bxb5,Rf2,Rb8,Rfd2,a5,Kf2,Bd7,f4,Be6,b3,Rb6,f5,Bd7,Bc4,Bc6,Ke3,a4,Bd5,Bxd5,Rxd5,axb3,axb3,Rxb3+,R5d3,Rb2,R1d2,Rb4,Ra3,Rd7,g4,Kf8,h4,d5,g5,Rxe4+,Kf3,fxg5,hxg5,Re5,Kf4,Re4+,Kf3,Re5,Kg4,Re4+,Kh5,f6,g6,Kg7,Ra5,c4,Raxd5,Rxd5,Rxd5,Rf4,Rd7+,Kg8,g7,Rxf5+,Kg6,Rg5+,Kxf6,Rg3', 'Rd8+,Kh7,Rh8#', 'https://lichess.org/training/FVWSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fVynX', 'Blitz', 'Abang_raizal', 1786, 'buba1980', 1509, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,d3,d6,h3,Bd7,O-O,h5,Bg5,a6,Ba4,b5,Bc2,Qe7,Nbd2,O-O-O,Nb3,Rdg8,Nxc5,dxc5,d4,exd4,cxd4,Qe6,d5,Qd6,dxc6,Qxc6,Re1,Nh7,Ne5,Qe6,Nxd7,Nxg5,Nxc5,Qg6,e5,Qb6,b4,Rd8,Qe2,Rhe8,f4,Ne6,Kh1,Nd4,Qf2,Ne6,f5,Nd4,Rac1,a5,a3,g6,f6,Nxc2,Rxc2,Rd5,Ree2,Rdxe5,Rxe5,Rxe5,Qd4,Rf5,Qd7+,Kb8,Qd8+,Ka7,Rd2,Qxf6,Qc8', 'Rf1+,Kh2,Qf4+,g3,Qxd2#', 'https://lichess.org/training/fVynX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fvyz9', 'Rapid', 'benibabi', 1801, 'zubn', 1792, 'b4,e5,Bb2,Bxb4,Bxe5,d6,Bxg7,Nf6,Bxh8,Nc6,Bxf6,Qxf6,c3,Bg4,Nf3,O-O-O,h3,Bxf3,exf3,Rg8,Qb3,Bc5,Na3,d5,Nc2,d4,cxd4,Nxd4,Nxd4,Bxd4,Rb1,Bb6,a4,a5,Rc1,Kb8,Qc3,Qh4,d4,Qe7+,Qe3,Qb4+,Qd2,Qxa4,Qc3,Qe8+,Qe3,Qd7,Qd3,Qe6+,Qe3,Qd7,Qd3,Bxd4,Qxh7,Bxf2+,Kxf2,Qd4+,Ke1,Qe3+,Kd1', 'Rd8+,Bd3,Rxd3+,Qxd3,Qxd3+', 'https://lichess.org/training/Fvyz9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fW0e4', 'Classical', 'Jatinkhuran', 1614, 'thokozani', 1615, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Nxe4,Be3,Qe7,Bb5,Qb4+,c3,Qxb5,Qc2,Nc5,Bxc5,Qxc5,O-O,Nxe5,Nxe5,Bd6,Nd3,Qh5,Re1+,Kf8,g3,b5,c4,Bb7,c5,Qf3,Kf1,Qg2+,Ke2,Re8+,Kd2,Be4,Nc3,Bxc5,Nxe4,Rxe4,Qxc5+,Kg8,Qxc7,h5,Qb7', 'Re2+,Rxe2,Qxb7,Re8+,Kh7,Rxh8+,Kxh8', 'https://lichess.org/training/fW0e4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fW1Br', 'Blitz', 'siulpr', 1577, 'synus', 1571, 'd4,d5,Bf4,Bf5,Nc3,e6,Nf3,a6,e3,c5,Bd3,Bxd3,Qxd3,c4,Qd1,Nc6,Ne5,Nxe5,Bxe5,f6,Bg3,Bd6,O-O,Ne7,f4,Nf5,Qf3,O-O,e4,dxe4,Nxe4,Bc7,Nc5,Qxd4+,Bf2,Qxb2,Nxe6,Rf7,Rfb1,Qxc2,Qxb7,Rb8', 'Qxb8+,Bxb8,Rxb8+,Rf8,Rxf8#', 'https://lichess.org/training/fW1Br');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fw5D9', 'Rapid', 'AlirioCorrea', 1804, 'KnightsReign', 1706, 'e4,c5,f4,Nc6,Nf3,d6,Be2,Nf6,Nc3,d5,e5,Ne4,O-O,Nxc3,dxc3,Bg4,Bb5,a6,Be2,e6,Ng5,Bxe2,Qxe2,d4,c4,Be7,Ne4,O-O,f5,exf5,Rxf5,Qc7,Bf4,Qd7,Rh5,Rae8,Rh3,Qf5,Rf1,Nxe5,Rh5,Qg6,Rxe5,f5,Nxc5,Bxc5,Rxe8', 'd3+,Qe3,Bxe3+', 'https://lichess.org/training/fw5D9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWAdv', 'Rapid', 'Zapkhiel', 1864, 'CAPUANA', 1899, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c5,Nf3,cxd4,Nxd4,Nc6,Be3,e5,Nb3,Qc7,Bb5,Nf6,Qd2,Bb4,O-O-O,O-O,a3,Be7,Kb1,Be6,f4,Rad8,Qe2,Bg4,Qf2,Bxd1,Nxd1,Nd4,Nxd4,exd4,Bxd4,a6,Ba4,b5,Bb3,Qc6,Nc3,Ne4,Nxe4,Qxe4,Bc3,Rfe8,Qg3,g6,Qh3,h5,Re1,Qxf4,Bxf7+,Kxf7,Qe6+,Kf8,Qxg6,Qf7', 'Qh6+,Kg8,Qh8#', 'https://lichess.org/training/FWAdv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fwai2', 'Blitz', 'Mahzuniserif', 1622, 'checkywilson', 1707, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,e6,Nc3,g6,Bd3,Bg7,Be3,Nge7,O-O,O-O,Qb3,Bd7,e5,d5,Qxb7', 'Rb8,Qa6,Nb4,Qa3,Nxd3', 'https://lichess.org/training/fwai2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fwaW4', 'Rapid', 'serjlad', 1745, 'marmat2', 1708, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,c6,e3,dxc4,Bxc4,Qa5,Bxf6,gxf6,Qa4,Qg5,g3,b5,Nxb5,cxb5,Bxb5+,Bd7,Bxd7+,Nxd7,h4,Qd5,f3,Bd6,Kf2,Qb7,b3,O-O,Ne2,Nb6,Qb5,Rab8,Nf4,a6,Qd3,f5,Nh5,Be7,Rag1,Nd5,g4,f4,Nxf4,Nxf4,exf4,Kh8,g5,Qd5,h5,Qf5,Qe4,Rbc8,Rc1,Bd6,Qxf5,exf5,Kg3,Rce8,Rc6,Re6', 'd5,Re7,Rxd6', 'https://lichess.org/training/fwaW4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fWB3v', 'Rapid', 'ahmedsoboh', 1668, 'Sekzy', 1802, 'd4,Nf6,Nc3,e6,e4,d6,Bg5,Nbd7,Bb5,c6,Bd3,Be7,Bxf6,Nxf6,f4,b5,Nf3,Bb7,e5,dxe5,fxe5,Nd5,Nxd5,exd5,O-O,O-O,Qd2,Bc8,Rae1,h6,e6,fxe6,Ne5,Qc7,Rxf8+,Bxf8,Rf1,Bd6,Qf4,Ba6,Qf7+,Qxf7,Nxf7,Bc7,Ne5,c5,Nc6,c4,Bg6,Bd6,Bf7+,Kh7,Bxe6,Bb7,Bxd5,Rc8,Nxa7,Rb8,Bxb7,Rxb7,Nc6,b4,d5,Bc5+,Kh1,Rd7,Rf5,g6,Re5,Rf7,h3', 'Rf1+,Kh2,Bd6', 'https://lichess.org/training/fWB3v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWbAg', 'Rapid', 'calvinman', 1605, 'poirot1982', 1603, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,Nf6,d3,a6,Ba4,h6,Nc3,b5,Bb3,O-O,Nh4,Nd4,f4,Nxe4,Ng6,Nxb3,Nxf8,Nxa1,Nxe4,Qxf8,Nxd6,Qxd6,fxe5,Qxe5,Bf4,Qxb2,Qf3,Rb8,Bxc7,Bb7', 'Qxf7+,Kh8,Bxb8', 'https://lichess.org/training/FWbAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWBsh', 'Rapid', 'magikk', 1775, 'aleks196vip', 1790, 'd4,d5,Bf4,Nf6,e3,a6,Nf3,Nc6,c3,Bd7,Nbd2,h6,Qb3,Rb8,Bd3,Nh5,Qxd5,Nxf4,exf4,e6,Qb3,Bd6,g3,O-O,O-O,Na5,Qc2,Bc6,Ne5,Bxe5,fxe5,f5,Nc4', 'Qd5,f3,Nxc4', 'https://lichess.org/training/FWBsh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWcDs', 'Rapid', 'Rechanskiy90', 1810, 'JulienP76', 1833, 'e4,c5,Bc4,e6,Nf3,Nf6,Nc3,Nc6,d3,Be7,Bf4,O-O,Qd2,a6,O-O,b5,Bxb5,axb5,Nxb5,d6,e5,Ne8,Rfd1,Ba6,c4,Bxb5,cxb5,Na7,a4,d5,b3,f6,d4,cxd4,Qxd4,Qb8,exf6,Bxf6,Qe3,Qd8,Qxe6+,Kh8,Qxd5', 'Qxd5,Rxd5,Bxa1', 'https://lichess.org/training/FWcDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWCWM', 'Blitz', 'Romer11', 1524, 'Kurmanbalban', 1700, 'e4,c6,Nf3,d5,Nc3,e6,e5,Bc5,d4,Bb6,Bd3,c5,b3,Nc6,a3,Bd7,O-O,Nge7,Bg5,O-O,Ne2,a6,Ng3,cxd4,Qd2,Qc7,Nh5,Nxe5,Bh6,Nxd3,Qxd3,Nf5,Bxg7,Nxg7', 'Nf6+,Kh8,Qxh7#', 'https://lichess.org/training/FWCWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fWDpm', 'Rapid', 'kamahs1994', 1829, 'MrEcom', 1893, 'e4,d6,d4,Nc6,Nf3,Bg4,Be3,Bxf3,Qxf3,e5,d5,Nce7,Bg5,h6,Be3,Nf6,Bd3,Ng6,Bb5+,Nd7,Nd2,a6,Bd3,Nf6,h4,h5,c4,Be7,Rc1,c5,dxc6,bxc6,a4,Rb8,b3,c5,Bg5,Ng4,Bxe7,Qxe7,Rc3,Nxh4,Qh3,g5,Nf3,Ng6,Nd2,Nf4,Qf3,Nf6,g3,g4,Qd1,Ne6,Nb1,Nd4,Be2,Nxe4,Re3,Ng5,Nc3,Qe6,Bxg4,Qxg4', 'Qxg4,hxg4,Rxh8+,Kd7,Rxb8', 'https://lichess.org/training/fWDpm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWEpk', 'Rapid', 'XDCHICHI', 1869, 'INDrajitnand', 1911, 'e4,e5,Nf3,d6,Bc4,Qf6,c3,Be7,d4,exd4,cxd4,Qg6,O-O,Bh3,Bxf7+,Kxf7,Ng5+,Bxg5,Bxg5,Qxg5,Qf3+,Nf6,Qxh3,Rf8,Qf3,Kg8,Qb3+,Kh8,Qxb7,Nbd7,Qxc7,Nb6,Nc3,Nxe4,Nxe4,Qg6,Nxd6,Nd5,Qc5,Nf4,g3,Nh3+,Kg2,Qg4,Qd5', 'Nf4+,Kg1,Nxd5', 'https://lichess.org/training/FWEpk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fwfIo', 'Rapid', 'Magicjoe1956', 1639, 'DANILOVIK', 1631, 'c4,e6,e4,b6,Nf3,Bb7,Nc3,d6,Be2,Nf6,d3,Nbd7,b4,Be7,O-O,O-O,Bb2,a5,bxa5,Rxa5,Nd4,c6,a4,d5,Nb3,Ra8,cxd5,exd5,exd5,Nxd5,Nxd5,cxd5,Bf3,Nf6,d4,Qd7,Nd2,Bc6,Nb1,Bxa4,Qd2,Bb5,Rxa8,Bxf1', 'Rxf8+,Bxf8,Kxf1', 'https://lichess.org/training/fwfIo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fWFJl', 'Blitz', 'CM Angel1722004', 2236, 'attacktattack', 2189, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Bb4+,c3,dxc3,O-O,Nf6,bxc3,Bc5,e5,d5,exf6,dxc4,Qe2+,Be6,fxg7,Rg8,Ng5,Qf6,Nxe6,fxe6', 'Qh5+,Qg6,Qxc5', 'https://lichess.org/training/fWFJl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fwhkP', 'Rapid', 'Ernilton_Ferraz', 1608, 'awesome5123', 1999, 'e3,e5,b3,d5,Bb2,Nc6,Bb5,Bd6,f4,exf4,Bxg7,Qh4+,Kf1,Nf6,Bxh8,Ng4,Nh3,fxe3,Qe2,Nxh2+,Kg1,Bxh3,Qxe3+,Kd8,Qxh3', 'Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/fwhkP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fwI2q', 'Rapid', 'judii', 1914, 'ALEKSEY_GLUSHKO', 1859, 'd4,e6,Nf3,d5,e3,c5,c3,Nc6,Bd3,Qb6,O-O,Bd7,Nbd2,Be7,Re1,Nf6,e4,dxe4,Nxe4,cxd4,cxd4,Nxd4,Be3,Nxf3+,Qxf3,Qd8,Nxf6+,Bxf6,Qxb7,Rb8,Qxa7,Rxb2,Rab1,Rxb1,Rxb1,O-O,Be4,Qc8,a4,Bc6,Bxc6,Qxc6,Rb8,g6,Rxf8+,Kxf8,Qc5+,Qxc5,Bxc5+,Ke8,a5,Kd7,Kf1,Kc6,Bb6,Be7,Ke2,Bc5,Bd8,Kb5,Kd3,Bxf2,Ke4,Ba7,Ke5,Bb8+,Kf6,Bxh2,Kxf7,e5,Kg7,Bf4,Kxh7,g5,Kg6,e4,Bb6', 'e3,g3,e2,gxf4,e1=Q', 'https://lichess.org/training/fwI2q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FwiwB', 'Classical', 'Sharmaji0748', 2028, 'NM TruenoChess', 2231, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,Nf3,g6,e4,Bg7,Bd3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Qe7,Re1,Nbd7,Qe2,a6,a4,Nh5,g4,Nhf6,f4,Rae8,Bd2,Qd8,Qf3,h6,Re2,Qc7,Rae1,c4,Bc2,b5,axb5,axb5,Rf2,b4,Ne2,Rb8,Ng3,Nc5,e5,dxe5,fxe5,Nfd7,d6,Qb7,Qxb7,Rxb7,Ne4,Re8,Nxc5,Nxc5,Bf4,b3,Bb1,Rb5,Rfe2,Ne6,Bg3,Rc8,Rd1,c3,bxc3,Rxc3,Kg2,Rb8,h4,b2,Ba2,Ra3,Bxe6,fxe6,d7,Rd8,Rxb2', 'Rxg3+,Kxg3,Bxe5+,Kf2,Bxb2', 'https://lichess.org/training/FwiwB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWiWT', 'Blitz', 'Castillo15', 1745, 'ferdyggs', 2188, 'e4,e5,Bc4,Nf6,d3,Nc6,Bg5,Be7,Nc3,d6,Nf3,Be6,Bb3,O-O,Qd2,a5,h4,a4,Bxa4,Nd4,Bb3,Nxf3+,gxf3,Nh5,O-O-O,Bxb3,cxb3,Bxg5,hxg5,g6,Kb1,c6,Ne2,f5,Ng3,Nxg3,fxg3,Kg7,Qc3,Qxg5,Rdg1,Qe3,f4,Qd4,Qd2,fxe4,fxe5,dxe5', 'Qh6+,Kf6,Rf1+,Ke6,Rxf8,Rxf8,Qxf8', 'https://lichess.org/training/FWiWT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fWjSm', 'Blitz', 'ozz_engin', 1954, 'alban28', 1966, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Bg4,Bc4,e6,Bd2,Nd7,a3,Ngf6,Ne4,Qh5,Ng3,Bxf3,Nxh5,Bxd1,Nxf6+,Nxf6,Rxd1,O-O-O,Bc3,Nd5,Bxd5,exd5,O-O,Bd6,Bb4,Bxb4,axb4,Rde8,Rfe1,Kd7,Kf1,Rxe1+,Rxe1,Re8,Rxe8,Kxe8,Ke2,Ke7,f4,Ke6,Kf3,h5,h3,f5,g4,hxg4+,hxg4,g6,g5,Kd6,Ke3,Kc7,Kd3,Kb6,b3,Kb5,c3,b6,Kc2,a6,Kb2,c5,bxc5,bxc5,Kc2,cxd4,cxd4,Kb4,Kb2,a5,Kc2,Ka3', 'Kc3,a4,b4,Ka2,b5', 'https://lichess.org/training/fWjSm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FwKzH', 'Rapid', 'jonooo', 1882, 'ozkansercanv', 1907, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,Be7,f4,d6,Nf3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,b5,Nxb5,c6,Nxd4,exd4,O-O,d5,exd5,cxd5,Bb3,O-O,f5,a5,a4,Qd6,Qf3,h6,Bf4,Qc5,Be5,Rad8,Qf4,Nh5,Qxd4,Qxd4+,Bxd4,Ng3,Rf2,Bf6,Bxf6,gxf6,Kh2,Nh5,c3,Rfe8,Bd1,Ng7,d4,Re1,Rd2,Nxf5,Rb1,Ne3,Kg3', 'Nf1+,Kf2,Nxd2,Kxe1,Nxb1', 'https://lichess.org/training/FwKzH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWlS5', 'Rapid', 'NM CandraErly', 1660, 'aga41_mail-ru', 1899, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Bc4,Nf6,h3,Qh5,Be2,e6,O-O,Bxh3,gxh3,Qxh3,d4,Bd6,Ne5,Nbd7,Bf4,g5,Bg3,h5,Nb5,h4,Bh2,g4,Nxd6+,cxd6,Nxg4,Rg8,f3,Nd5,Kh1,f5,Rg1,fxg4,Rxg4,O-O-O', 'Bf1,Qxg4,fxg4', 'https://lichess.org/training/FWlS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWM4S', 'Rapid', 'Gabrielkeno', 1742, 'CG_NINJA', 1692, 'c4,c6,Nc3,d5,cxd5,cxd5,d4,e6,e3,Nf6,Bd3,Be7,Nge2,O-O,O-O,Bd7,Qc2,Nc6,f3,a6,e4,dxe4,fxe4,Rc8,e5,Nb4,Qb1,Nxd3,Qxd3,Nd5,Nxd5,exd5,Be3,Qb6,b3,Qe6,Nf4,Qg4,Rf3,Qf5', 'Qxf5,Bxf5,Nxd5', 'https://lichess.org/training/FWM4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fwm5f', 'Rapid', 'zateznik', 1984, 'maheshnasani', 1992, 'e4,c5,Nf3,Nc6,Nc3,e5,d3,Nf6,h3,d5,exd5,Nxd5,Be3,Nxe3,fxe3,Be7,Be2,Bh4+,Kf1,O-O,Nxh4,Qxh4,Qe1,Qf6+,Qf2,Qe7,Bf3,Be6,Ke2,f5,Bd5,Nb4,Bxe6+,Qxe6,Rac1,Nxa2,Nxa2,Qxa2,b3,e4,dxe4,fxe4,Qh4,Qa6+,Ke1,Qa5+,Ke2,Qb5+,Ke1,Qb4+,Ke2,Rad8,Rhd1,Qb5+,c4,Qxb3', 'Rxd8,Qb2+,Kd1', 'https://lichess.org/training/fwm5f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fwmp3', 'Rapid', 'Mr_Abdullah', 1987, 'Ayu-risky', 2097, 'd4,c6,Bf4,d5,e3,e6,Nf3,Bd6,Bxd6,Qxd6,c3,Ne7,Bd3,f5,Ne5,O-O,Nd2,Nd7,Ndf3,Ng6,Nxg6,hxg6,Ng5,Nf6,Qf3,Ne4,Bxe4,fxe4,Qh3,Rf7,Qh7+,Kf8,Qh8+,Ke7,Nxf7,Kxf7,Qh4,Kg8,O-O,Bd7,Qg4,e5,Qg3,Re8,dxe5,Rxe5,Rad1,Qe7,Qxg6', 'Rg5,Qxg5,Qxg5', 'https://lichess.org/training/fwmp3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fwn9b', 'Rapid', 'Novemberrain', 1806, 'thevar', 1817, 'e4,d5,exd5,Nf6,d4,e6,dxe6,Bxe6,Nf3,Nc6,Bb5,Qd5,Nc3,Bb4,Bxc6+,Qxc6,Bd2,Bxc3,Bxc3,O-O,O-O,Rad8,Ne5,Qd5,Qf3,Ne4,Rfe1,Nxc3,bxc3,f6,Qxd5,Bxd5,Nf3,Bxf3,gxf3,Rd5,Red1,Rf5,Rd3,Rd8,c4,b6,d5,g5,Kg2,Rf4,Rad1,Rxc4,d6,cxd6,Rxd6,Rxd6,Rxd6,f5,Rd8+,Kg7,Rd7+,Kg6,Rxa7,Rxc2,Ra6,Rc6,a4,Rc4,Rxb6+,Kh5,a5,Ra4,Rb5,f4,Kh3,Ra3,Kg2,Kh4,Rb7,h5,Ra7,g4,fxg4', 'f3+,Kf1,Ra1#', 'https://lichess.org/training/Fwn9b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fwNbH', 'Rapid', 'chuyin80', 1648, 'GrigorievM_mgn', 1636, 'd4,d5,Bf4,Nf6,e3,Bf5,c3,e6,Nf3,Be7,Bd3,Nc6,Bxf5,exf5,Qd2,Ne4,Qc2,Qd7,Nbd2,O-O-O,Nxe4,fxe4,Ng5,Bxg5,Bxg5,f6,Bf4,g5,Bg3,h5,h3,g4,h4,Ne7,Bh2,Nf5,g3,Qb5,a4,Qa6,b4,c6,Qb2,Qd3,Rd1,Qc4,b5,Qxa4,bxc6,Qxc6,O-O,Nd6,Ra1,Nc4,Qa2,a6,Rfb1,Rd7,Rb3,Nd6,Rab1,Nb5', 'Rxb5,axb5,Qa8+,Kc7,Qxh8', 'https://lichess.org/training/fwNbH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FwNPg', 'Classical', 'ZombieBrain', 1605, 'rayochess', 1718, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,f6,dxe5,fxe5,Bg5,Be7,Bxe7,Qxe7,Qd2,Nf6,Qg5,O-O,Qh4,d5,exd5,cxd5,Nc3,Qb4,O-O-O,Bg4,Nxe5', 'Qf4+,Rd2,Qxe5', 'https://lichess.org/training/FwNPg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fwoyy', 'Blitz', 'RGGUPTA', 1594, 'VovanKaban123', 1634, 'f4,d5,Nf3,Nc6,e3,Bg4,Be2,e6,b3,Bc5,Bb2,Nf6,O-O,O-O,h3,Bxf3,Rxf3,Ne4,c4,dxc4,Bxc4,Bb4,d3,Nf6,f5,exf5,Rxf5,Re8,e4,Bc5+,Kh1,Bb6,Qf3,Ne5,Bxe5,Rxe5,Rxe5,Qd4,Re7', 'Qg1#', 'https://lichess.org/training/fwoyy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWPaT', 'Rapid', 'FatDevil', 1852, 'dissident_with_love', 1743, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,Kf1,d5,Bxd5,c6,Bb3,Bg4,Nc3,Qb6,d4,Nf6,Bxf4,O-O,Qd2,Bxf3,gxf3,h6,Rg1,Qa6+,Kg2,Nbd7,Kh1,Nh5,Bxh6,Ndf6,e5,Nd5,Nxd5,cxd5,Bxg7,Nxg7,Qg2,Qh6,f4,Rad8,f5,Kh7,f6,Nf5,c3', 'Ng3+,Qxg3,Bxg3', 'https://lichess.org/training/FWPaT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWpfW', 'Rapid', 'domingo5', 1687, 'wheresmybelt', 1714, 'Nc3,e5,e4,Nf6,Bc4,Bb4,Nge2,a6,a3,Ba5,b4,Bb6,Nd5,Nxd5,Bxd5,Qf6,O-O,c6,d4,cxd5,Bb2,exd4,Nxd4,Qg6,Nf5,d4,c4,d6,c5,dxc5,bxc5,Bxc5,Qa4+,Bd7,Qc4,Bxf5,exf5,Qxf5,Rfe1+,Kf8,Rac1,Nd7,Bxd4,Bxd4', 'Qc8+,Rxc8,Rxc8#', 'https://lichess.org/training/FWpfW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fWQvp', 'Rapid', 'blackgambit2021', 1640, 'A78292771LUIGI1', 1634, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,h3,e5,O-O,Bc5,Be3,d4,Bd2,dxc3,Bxc3,Bd4,Re1,Bxc3,bxc3,Qc7,Qf3,e4,Rxe4+,Nxe4', 'Qxe4+,Kd7,Rd1+', 'https://lichess.org/training/fWQvp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWRFx', 'Rapid', 'bitokuchesu', 1809, 'MikaelaVillalon', 1787, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,h3,Nbd7,Be3,b6,Bd3,O-O,g4,c5,Nf3,Bb7,Qd2,a5,f5,Ba6,Bxa6,Rxa6,Rf1,b5,fxg6,fxg6,Bh6,b4,Bxg7,Kxg7,g5,bxc3,gxf6+,Nxf6,Qxc3,Nxe4,Qd3,Qa8,d5,Ng3,Rg1,Nf5,Ng5,Nd4,Qc3,Qxd5,Qd3,c4', 'Qxd4+,Qxd4,Ne6+,Kg8,Nxd4', 'https://lichess.org/training/FWRFx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWRKV', 'Rapid', 'WetCardboardBox', 1970, 'Richard71828', 2148, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Be7,O-O,O-O,c3,b6,Re1,Bb7,Bf4,a5,a4,c5,dxc5,Nxc5,Nxf6+,Bxf6,Be2,Qxd1,Raxd1,Nxa4,Ne5,Rfd8,Nd7,Ba6,Bxa6,Nxb2,Nxf6+,gxf6,Rxd8+,Rxd8,Rb1,Na4,c4', 'Nc3,Re1,Ne2+,Kf1,Nxf4', 'https://lichess.org/training/FWRKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fwsf2', 'Rapid', 'dalejos', 1901, 'WannaWin', 1920, 'e4,e5,Nc3,Nf6,f4,d6,Nf3,Bg4,Be2,h6,d4,exd4,Nxd4,Bxe2,Qxe2,Be7,O-O,O-O,Be3,Nc6,Nf5,Nh7,Rad1,Qe8,Nd5,Bd8,Bd4,Nxd4,Rxd4,Nf6,Re1,Nxd5,Rxd5,Qc6,Qg4,Bf6,Nxh6+,Kh7,Rf5', 'Bd4+,Kh1,gxh6', 'https://lichess.org/training/fwsf2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FwuLC', 'Rapid', 'OneTrickPony', 2232, 'NeRi', 2093, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Qb3,dxc4,Qxc4,c6,e4,O-O,Be2,Bg4,O-O,e6,Be3,h6,h3,Bxf3,Bxf3,Nbd7,Qb3,Qb6,Qxb6,Nxb6,b3,Rfd8,Rfd1,Ne8,Rac1,Rac8,g4,Nc7,a4,Na6,a5,Nd7,Be2,Rb8,f4,c5,d5,Bxc3,Rxc3,exd5,Rxd5,Nf6,Rxd8+,Rxd8,Bf3,b6,axb6,axb6,e5,Nd5,Rd3,Nab4,Rd1,Kf8,f5,g5,Bc1,Ke8,Kf2,Nc3,Rxd8+,Kxd8,Bd2,Ncd5,Kg3,Ke7,h4,f6,e6,Nc7,hxg5,hxg5,Bxb4,cxb4,Kf2,Nb5,Bd5,Nc3,Bc4,Ne4+,Ke3,Nd6,Kd4,Ne8', 'Kd5,Nc7+,Kc6', 'https://lichess.org/training/FwuLC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fWwRN', 'Blitz', 'rish3', 1616, 'waynivan', 1607, 'e4,g6,d4,Bg7,f4,d6,Nc3,e6,Nf3,Ne7,Be3,O-O,Bd3,c6,Qd2,b5,g4,b4,Ne2,a5,h4,Ba6,h5,Bxd3,Qxd3,c5,hxg6,fxg6,Ng5,Qd7,Rxh7,Na6,O-O-O,c4,Qxc4,Rfc8,Nxe6,Rxc4', 'Rxg7+,Kh8,Rh1#', 'https://lichess.org/training/fWwRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FWxfi', 'Rapid', 'PAULD', 2098, 'Ilknur_cempion', 2137, 'd4,f5,Nf3,e6,Nc3,Nf6,Bg5,Bb4,Qd3,Bxc3+,bxc3,O-O,e3,h6,Bxf6,Qxf6,Be2,d6,O-O,b6,Nd2,Bb7,f3,Nd7,e4,f4,c4,g5,c3,Rad8,Qc2,e5,a4,exd4,cxd4,Qxd4+,Kh1,Nc5,Rad1,Qf6,Qa2,a5,Nb3,Nxb3,Qxb3,Ba6', 'c5+,Qf7,Qxf7+,Kxf7,Bxa6', 'https://lichess.org/training/FWxfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fwY0n', 'Rapid', 'limon2004', 832, 'Michele1127', 832, 'd4,e5,Nc3,Nf6,e3,Bd6,Bd2,O-O,Bd3,c5,dxc5,Bxc5,Nf3,d6,O-O,g6,Bb5,Bb4,Nh4,Nh5,Nd5,Bc5,Be2,Qxh4,Bxh5,gxh5,a3,Qe4', 'Nf6+,Kg7,Nxe4', 'https://lichess.org/training/fwY0n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fWZnf', 'Rapid', 'chesscoule', 1854, 'Xhemo', 1979, 'Nf3,d5,g3,c5,Bg2,Nc6,O-O,e5,d3,f5,c4,e4,Nfd2,Be6,cxd5,Bxd5,Nc3,Nf6,dxe4,fxe4,Ndxe4,Bxe4,Nxe4,Qd4,Be3,Qe5,Bf4,Qe6,Nxf6+,Qxf6,Qb3,Qf7,Bd5,Qd7,Rad1,Nd4,Rxd4,cxd4,Rd1,Bc5,e3,Rd8,Be6,Qe7,exd4,Bxd4,Re1,Kf8,Rc1,Re8,Re1,Qc5,Qf3,Bf6,Qxb7,Qe7,Qd5,Rd8,Qc6,g5,Bc7,Rd4,Kg2,Kg7,h4,gxh4,Qf3,Qxc7,Qh5,Qc6+,Kg1,Qc7,Bf5,hxg3,Re3,gxf2+,Kxf2,Qf4+,Ke2,Qh6', 'Rg3+,Bg5,Rxg5+,Qxg5,Qxg5+', 'https://lichess.org/training/fWZnf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FwZsD', 'Classical', 'mrerubbany', 1731, 'Madarauchiha9', 1728, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Bc4,b5,Bd5,Ra7,d4,Qc7,dxc5,Nxc5,b4,Na4,Nd4,Bb7,Bxf7+,Kxf7,Qf3+,Ke8', 'Ne6,Qc4,Qxf8+', 'https://lichess.org/training/FwZsD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fx0J7', 'Rapid', 'ericktorres', 2114, 'owi2221', 1987, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d3,h6,Be2,Bc5,Be3,Bb6,Qd2,d6,O-O-O,Be6,d4,exd4,Nxd4,Nxd4,Bxd4,Qd7,Bxf6,gxf6,f3,O-O-O,Nd5,Bxd5,exd5,Rhe8,Kb1,Qa4,Rhe1,Be3,Qd3,Re5,Qc4,Qa5,f4,Re7,Bg4+,Kb8,Re2,Rde8,Rde1,Bf2,Rxe7', 'Qxe1+,Rxe1,Rxe1+,Bd1,Rxd1#', 'https://lichess.org/training/Fx0J7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fx1QB', 'Blitz', 'pkv_10', 1543, 'roby_2017', 1921, 'e4,c5,Bc4,e6,e5,d6,Nf3,d5,Be2,Nc6,O-O,Qd7,d3,Qc7,Bf4,Bd7,c3,g6,Bg3,Bg7,d4,cxd4,cxd4,Nge7,Na3,a6,Rc1,O-O,b4,Qb6,b5,axb5,Nxb5,Nf5,Rb1,Qd8,Nd6,Nxd6,exd6,Qc8,a4,Rd8,Be5,Bf8,Ng5,Be8,Bb5,Bxd6,Bf6,Be7,Qf3,Nxd4,Qh3,Bxf6,Qxh7+,Kf8,Qh6+,Ke7,Bxe8,Rxe8,Qh4,Rh8,Qg4,Rh5,Nf3,Nxf3+,Qxf3,Qh8,h3,g5,Qa3+,Ke8,Rxb7,g4,Qd6,gxh3', 'Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/fx1QB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fX23b', 'Classical', 'Relax_time', 1720, 'rm6140', 1768, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c6,Bg5,h6,Bh4,Bb4,Qc2,O-O,e3,Nbd7,Bd3,b6,O-O,Ba6,cxd5,Bxd3,Qxd3,cxd5,Rac1,Qb8,Rc2,Ng4,Rfc1,Bd6,Bg3,Bxg3,hxg3,Qd8,Nb5,Qe7,Rc7,a6,Na7,b5,Nc6,Qe8,e4,Ngf6,e5,Ne4,Nh4,Kh8,f3,Nxg3,Kh2,Nh5,g4,Nf4,Qe3,Ng6,Nxg6+,fxg6,g5,h5,f4,Kh7,Rb7,Qc8,Na5,Qe8,Rcc7,Rf7,Qa3,Rd8,Qd6,Nb8,Rxf7,Rxd6,Rxg7+,Kh8,Rh7+,Kg8,Rbg7+,Kf8,Rh8+,Kxg7,Rxe8,Rb6,Nb3,Kf7,Rc8,Rc6,Rxc6,Nxc6,Nc5,Nxd4,Nxa6,Ne2,Nc7,Nxf4,Nxb5,Nd3,a4,Nxb2,a5,Nc4,a6,Nb6,Nc7,Ke7,a7,Kd7,a8=Q,Nxa8,Nxa8,d4,Nb6+,Kc6,Nc4,Kd5,Nd2,Kxe5,Kg2,Kf5,Nf3,e5,Kf2,d3,Ke3,e4,Nd4+,Ke5,Nc6+', 'Kf5,Ne7+,Kxg5', 'https://lichess.org/training/fX23b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fx2SB', 'Rapid', 'Raulr', 2056, 'jorca952', 1901, 'Nf3,Nf6,c4,e6,Nc3,c5,g3,Nc6,d4,cxd4,Nxd4,Be7,Bg2,a6,O-O,O-O,e4,d6,Be3,Bd7,Qe2,Qc7,Rac1,Rac8,b3,Rfd8,Rfd1,Nxd4,Bxd4,Bc6,Rd2,Qb8,h3,h6,a4,Rd7,Rcd1,Rcd8,Bb6,Rc8,f4,Bd8,Bf2,Bc7,g4,Rcd8,Kh1,Ba5,Rd3,d5,cxd5,exd5,Nxd5,Bxd5,exd5,Qxf4,Bg3,Qb4,Bh4,Qd6,Qf3,Re8,Bxf6,Qxf6,Qxf6,gxf6,Bf3,Kg7,Kg2,Bb6,Rc1,Be3', 'Re1,Rde7,d6', 'https://lichess.org/training/fx2SB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fx3sr', 'Rapid', 'moge233', 1810, 'Cawa58', 1872, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Nbd7,cxd5,cxd5,e3,h6,Bh4,a6,Bd3,e6,h3,Be7,Nge2,O-O,O-O,Nh7,Bxe7,Qxe7,f3,b5,e4,Bb7,Re1,Nb6,Nf4,Qg5,Qc1,Rfc8,Qe3,Nc4,Bxc4,bxc4,Na4,Rc7,Nc5,dxe4,Nxb7,Rxb7,Qxe4,Rab8,d5,Rxb2,dxe6,fxe6', 'Qxe6+,Kh8,Ng6+,Qxg6,Qxg6', 'https://lichess.org/training/Fx3sr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fx52a', 'Classical', 'MaKariy-2011', 1906, 'MESSENGER-DODONG_97', 1866, 'e4,d6,d4,e5,d5,c6,c4,b5,cxb5,cxb5,Bxb5+,Bd7,Bxd7+,Nxd7,Nc3,f5,exf5,Ngf6,Bg5,Be7,Bxf6,Nxf6,Qa4+,Nd7,Ne4,O-O,Nf3,Rxf5,O-O,Nb6,Qd1,Rc8,Qd3,Rf4,Rac1,Rxc1,Rxc1,Qa8,Rd1,Qxd5,Qxd5+,Nxd5,Nxd6,e4,Rxd5,exf3,Nf5,Bf8,Ng3,fxg2,Kxg2,Ra4,a3,Rc4,Rd2,g6,Re2,a5,Ne4,Be7,Nd2,Rc7,a4,Bb4,b3', 'Rc2,Re8+,Kf7', 'https://lichess.org/training/Fx52a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fx5fe', 'Rapid', 'MurtadhoAbidin', 1686, 'Gilangalschh', 1877, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,O-O,O-O,Be3,Nc6,f4,d5,e5,Nd7,f5,Ndxe5,fxe6,Bxe6,Nxe6,fxe6,Na4,Rxf1+,Qxf1,Bg5,Bxg5,Qxg5,Nc5,Rf8', 'Qxf8+,Kxf8,Nxe6+,Ke7,Nxg5', 'https://lichess.org/training/fx5fe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FX6V0', 'Blitz', 'mdiman', 1753, 'Bigman63', 1748, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,O-O,Bc5,c3,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,d6,Qxc3,Nf6,e5,dxe5,Nxe5,Nxe5,Re1,Nd7,f4,Qh4,fxe5,Rf8,e6', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/FX6V0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FxaJC', 'Blitz', 'Hadessama', 2338, 'CM AAponte', 2268, 'd4,e6,e4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Qg4,Qc7,Bd2,Bd7,Qxg7,Rg8,Qxh7,cxd4,cxd4,Nbc6,Nf3,Na5,h4,Nc4,Ng5,Rf8,Bd3,Nxd2,Kxd2,Rc8,g4,Qc3+,Ke3,Rc4,Nf3,Nc6,Rab1,Rxd4,Rxb7', 'Re4+,Qxe4,dxe4', 'https://lichess.org/training/FxaJC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fxaoC', 'Rapid', 'mokesa', 1778, 'SandyFrost', 1762, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bb4,d3,h6,a3,Ba5,O-O,d6,Nd5,Bg4,h3,Bh5,Be3,Nxd5,exd5,Nd4,Bxd4,exd4,b4,Bb6,Qe2+,Kd7,Ne5+,dxe5,Qxh5,Qf6,Rae1,Rae8,d6,Qxd6,Qxf7+,Re7,Qd5,c6,Qxd6+,Kxd6,b5,cxb5,Bxb5,Bc5,a4,a6,Bc4,Rb8,Rb1,e4,dxe4,Rxe4,Bd3,Ree8,f4,Kc6,f5,Rf8,Kh1,Rf6,Rf3,b5,axb5+,axb5,Rg3,Bf8,Rg4,Kc5,Re4,Rxf5,Re6,Rf6,Re5+,Kd6,Rexb5,Rxb5,Rxb5,Kc6,g3,Rf2,g4,Rxc2,Rb8,Rc3,Be4+,Kd7,Rxf8,d3,Rf1,d2,Bf3', 'Rxf3,Rxf3,d1=Q+', 'https://lichess.org/training/fxaoC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FXav1', 'Rapid', 'Bach_To_Chess', 2192, 'RubenGavilan', 2081, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Be3,O-O,Qd2,Ng4,Bg5,f6,Bh4,e5,Bc4+,Kh8,h3,exd4,Nxd4,Ne5,Bb3,Qe8,f4,Nec6,O-O-O,Nxd4,Qxd4,Nc6,Qd2,a6,Rhe1,Be6,Nd5,Rc8,Kb1,b6,f5,Bf7,Nxf6,Qe7,Nxh7,Qxh4,Nxf8,Rxf8,Bxf7,Rxf7,Qd5,Qf6,c3,Ne7,Qa8+,Rf8,Qxa6,gxf5,exf5,Nxf5,Rf1,Qh6,g4,Ne3,Rxf8+,Bxf8,Rd3,Qxh3,a4,Qf1+,Ka2,Nxg4,Qc4,Ne5,Qh4+,Kg8,Rg3+,Kf7,Qh5+,Ke6,Qe8+,Kd5,Qa8+,c6,Qa7,Qc4+,Kb1,Qe4+,Ka2,Qc4+,Kb1,Qb3,Rg1,Kc5,Rg5,Bh6', 'Rxe5+,dxe5,Qe7+,Kd5,Qf7+,Ke4,Qxb3', 'https://lichess.org/training/FXav1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXBjR', 'Rapid', 'FRANCO89RoVa', 1705, 'r2d10', 1742, 'd4,d5,c4,dxc4,e3,c6,Bxc4,b5,Bb3,Qa5+,Bd2,Qc7,Qf3,e6,a3,Nf6,Bc3,Nd5,Bxd5,cxd5,e4,b4,axb4,Bxb4,exd5,Bxc3+,Nxc3,Bb7,Qe3,O-O,dxe6', 'Bxg2,Nge2,Bxh1', 'https://lichess.org/training/fXBjR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FXbmA', 'Bullet', 'AMR25', 2308, 'Lole-y-Manuel', 2321, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Qe2,b5,Bb3,Bc5,c3,O-O,d3,d5,Bg5,dxe4,dxe4,h6,Bh4,Qe7,Bd5,Bd7,Nbd2,Rab8,h3,Nd8,g4,g5,Bg3,c6,Bb3,Bd6,O-O-O,Kg7,Nf1,Ne6,h4,Nf4,Bxf4,gxf4,g5,Nh7,gxh6+,Kxh6,Ng5,f6,Rxd6,Qxd6,Nf7+,Rxf7,Bxf7,Kg7,Qh5,Kh8,Rg1,Qe7,Qg6,Qf8,h5,Be8', 'Qg8+,Qxg8,Rxg8#', 'https://lichess.org/training/FXbmA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fxcQF', 'Rapid', 'Halfelven', 1789, 'dfarchich1', 1755, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,Bd3,Nf6,h3,Bd6,O-O,Qc7,Ne2,Nbd7,Bxg6,hxg6,c4,O-O-O,c5,Bh2+,Nxh2,Rxh3,gxh3,Rh8,Bf4,Qd8,Ng3,Rxh3,Qf3,Nd5,Ng4,Qh4,Rfe1,N7f6,Nxf6,gxf6,Be3,f5,Bd2,g5,Qg2,f4,Ne4', 'f3,Nxg5,fxg2,Nxh3,Qxh3', 'https://lichess.org/training/fxcQF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FxCtc', 'Rapid', 'Antei97', 1686, 'benkss07', 1675, 'd4,Nf6,e3,e6,f4,b6,Nf3,Bb7,Bd3,Bb4+,c3,Be7,O-O,O-O,Bd2,d5,Be1,c5,b3,Nc6,Nbd2,Qc8,Ne5,Nxe5,fxe5,Ne4,Qg4,Nxc3,Nf3,Ne4,Rc1,Ba6,Bxa6,Qxa6,a4,Qd3,Qf4,g5,Qg4,Qxe3+,Kh1,Qxc1,h4,Nf2+,Rxf2,Qf4,Qh5,cxd4', 'Nxg5,Bxg5,Rxf4,Bxf4,Qg4+,Kh8,Qxf4', 'https://lichess.org/training/FxCtc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fxdCF', 'Rapid', 'ElRojc', 1516, 'iqwoo', 1542, 'e4,c6,d4,d5,e5,Nd7,Nf3,e6,Nc3,Bb4,a3,Bxc3+,bxc3,c5,Bg5,Qa5,Bd2,cxd4,cxd4,Qb6,Rb1,Qc6,Bb5,Qc7,Ng5,a6,Qf3,f6,Nxe6,Qb6,Nxg7+,Ke7,Nf5+,Ke8,Qh5+,Kd8,Ng7,axb5,Qe8+,Kc7,Ne6+,Kb8,exf6,Ndxf6,Bf4+,Ka7,Rxb5,Qxe6+', 'Qxe6,Bxe6,Ra5+,Kb6,Rxa8', 'https://lichess.org/training/fxdCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXdRd', 'Blitz', 'ratomir', 1774, 'Bouletnul', 1718, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d6,e4,O-O,Be2,Nc6,O-O,e5,d5,Ne7,Ne1,Nd7,f3,f5,Be3,f4,Bf2,g5,b4,a6,a4,Rf6,a5,Rh6,c5,Qe8,Kh1,Qh5,Bg1,Nf6,cxd6,cxd6,Na4,Ng6,Nb6,Rb8,Nxc8,Rxc8,Rc1,Rf8,Rc7,Nh4,Rxb7,Rf7,Rb8+,Bf8,Qc2,Rg7,Qc8,Rf7,Rb7,g4,Rxf7,Kxf7,Qe6+,Kg7,Bxa6,gxf3,gxf3,Qg5,Bc8,Rg6,a6,Nh5,Qd7+,Kh6,Qe8,Nxf3,Qxf8+,Ng7,Bh3', 'Qxg1+,Rxg1,Rxg1#', 'https://lichess.org/training/fXdRd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXe5o', 'Rapid', 'Belter_miller', 1643, 'enverkocak', 1615, 'd4,d5,c4,e6,Nc3,dxc4,e3,Nf6,Bxc4,Nc6,Nf3,a6,O-O,Bd6,a3,O-O,b4,b5,Bb3,h6,Bb2,e5,Ne2,e4,Ne5,Bb7,Nxf7,Rxf7,f3,Ne7,fxe4,Bxe4,Ng3,Bd5,Bc2,Bxg3,hxg3,Be4,Bb3,Bd5,Bc2,Rf8,Qd3,Qd6,Rxf6,Qxf6', 'Qh7+,Kf7,Rf1,Qxf1+,Kxf1', 'https://lichess.org/training/fXe5o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FXEgQ', 'Classical', 'UmairZahid', 1784, 'Turrinvicam', 1775, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Na5,d3,Nxb3,axb3,d6,O-O,Nf6,Bg5,h6,Bh4,Be7,c4,b4,Ne1,Ng4,Bg3,h5,Nc2,h4,h3,hxg3,hxg4,gxf2+,Rxf2,Bh4,Rf3,Bxg4,Nd2,Bxf3,Qxf3,a5,Rf1,Qe7,Ne3,Qf6,Qg4,Qg5,Qf3,Qf4,Qe2,Qh2+,Kxh2', 'Bf2+,Qh5,Rxh5#', 'https://lichess.org/training/FXEgQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FXeyH', 'Classical', 'rionasrolahi', 1889, 'YNGVE_FARMEN', 2026, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,d6,Bxf6,Bxf6,e4,Nc6,Nge2,Na5,b3,O-O,h4,Be6,h5,g5,f4,c5,fxg5,Bxg5,Qd3,Qd7,Qg3,f6,d5,Bg4,Nf4,e5,Nh3,Kh8,Nxg5,fxg5,h6,Rab8,Qe3,b6,Qxg5,Rf4,g3,Rf7,Rh2,Rbf8,Bd3,Rg8,Qd2,Qc8,Nb5,Qf8,Be2,Rg6,Bxg4', 'Rf1+,Ke2,Rxa1', 'https://lichess.org/training/FXeyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fxgRt', 'Blitz', 'PS2016', 1963, 'tabarjack', 2067, 'Nf3,b6,d3,Bb7,e4,e6,Nbd2,c5,g3,Nc6,Bg2,d5,O-O,Nf6,Re1,dxe4,Nxe4,Nxe4,dxe4,Nd4,Nd2,Be7,c3,Nc6,Qe2,Qc7,Nf3,O-O-O,Bf4,e5,Be3,h5,Rad1,h4,Rxd8+,Bxd8,Bh3+,Kb8,Kg2,hxg3,hxg3,f6,Rd1,g5,Rd7,Qc8,Rh7,Rxh7,Bxc8,Bxc8,a3,Bh3+,Kg1,Bd7,Nd2,f5,exf5,Bxf5,Qf3,Bd7,Qe4,Rh8,b4,Bf6,Nc4,cxb4,axb4,Kc7,b5,Ne7,Nxe5,Bxb5,c4,Be8,Kf1,Nc6,Nxc6,Bxc6,Qg6,Bf3,Qf7+,Kb8,Ke1', 'Bc3+,Bd2,Rh1#', 'https://lichess.org/training/fxgRt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fxhrg', 'Rapid', 'TsogTheGod', 1998, 'foxdonuts', 1908, 'c4,e6,g3,d5,d4,c5,Nf3,Nc6,dxc5,Bxc5,Bg2,Nf6,O-O,O-O,a3,a5,Nc3,d4,Nb5,e5,Bg5,h6,Bxf6,Qxf6,Nc7,Rb8,Nd5,Qd6,e4,dxe3,Nxe3,Nd4,Nd2,Be6,Ne4,Qb6,Nxc5,Qxc5,Rb1,Bxc4,Rc1,Ne2+', 'Qxe2,Bxe2,Rxc5', 'https://lichess.org/training/Fxhrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXhX4', 'Rapid', 'R_Delgado', 1747, 'DoanC', 1746, 'e4,c5,Nf3,e6,Bb5,Nc6,Bxc6,bxc6,d3,h6,O-O,d6,c4,Nf6,b3,Be7,Bb2,O-O,Nbd2,Bb7,e5,dxe5,Bxe5,Bd6,Ne4,Bxe5,Nxe5,Nxe4,dxe4,Qf6,Nd7,Qg6,Nxf8,Kxf8,f3,Ke7,Qd2,Rd8,Qf4,Bc8,Qc7+,Bd7,Rad1,e5,Rxd7+,Rxd7,Qxe5+,Qe6,Qxc5+,Ke8,h3,a6,a4,Qd6,Qa5,Qd4+,Kh1,Rb7,Qxa6,Rxb3,Qxc6+,Kf8,Qa6,Rb4,Rc1,Rb2,c5,Rxg2,Kxg2,Qd2+,Kg3,Qxc1,c6,Qg5+,Kf2,Qd2+,Kg3,Qg5+,Kh2,Qd2+,Kg3,Qg5+,Kf2,Qd2+,Qe2,Qd6,Qc2', 'Qh2+,Kf1,Qxc2', 'https://lichess.org/training/fXhX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXke0', 'Rapid', 'Jorgeareia', 1735, 'clarkhl3', 1798, 'e4,c5,Nf3,d6,h3,Nf6,Bd3,Nc6,c3,e5,O-O,Be7,Bc2,O-O,d4,exd4,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Qc7,Bg5,Qxc2,Na3,Qc7,Bxf6,Bxf6,Qd2,Re8,Rfe1,Qb6,Rab1,Be6,b3,Bd4,Rf1,Bd7,Nc4,Qc6,Qxd4,Rxe4,Qxd6', 'Rxc4,Qxc6,Rxc6', 'https://lichess.org/training/fXke0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fxkhd', 'Blitz', 'StasBabarykin', 2579, 'FM nfds', 2546, 'd4,d5,Bf4,c6,e3,e6,Nf3,Bd6,Bg3,Ne7,Nbd2,Nf5,Bxd6,Qxd6,c3,b6,e4,dxe4,Nxe4,Qe7,Bd3,Bb7,O-O,Nd7,Re1,O-O,Qc2,h6,Rad1,Nd6,Nxd6,Qxd6,Qe2,Nf6,Ne5,c5,Bb1,Rfd8,h3,cxd4,Rxd4,Qc5,Nxf7,Rxd4,Nxh6+,Kf8,Qxe6,Bd5,cxd4,Qb4,Qe5', 'Re8,Rd1,Rxe5', 'https://lichess.org/training/Fxkhd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXkVt', 'Rapid', 'Devashish135', 1756, 'OldMonkRises', 1776, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nc6,Qd2,Nf6,f3,Nd7,O-O-O,O-O,g4,Nde5,Be2,b5,Ncxb5,a6,Nc3,Be6,f4,Nxg4,Nxc6,Qc7,Nd4,Nxe3,Qxe3,Rfc8,Nxe6,fxe6,e5,dxe5,fxe5,Bxe5,Rhf1,Qa5,Bg4,Rc6,Bf3,Rxc3,bxc3,Bxc3,Qxe6+,Kh8,Bxa8', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/fXkVt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FXLGT', 'Rapid', 'pawner85729', 1678, 'Shilong', 1634, 'd4,d5,e3,Nf6,c4,dxc4,Bxc4,e6,Nc3,a6,e4,Nc6,Nf3,Bb4,O-O,Bxc3,bxc3,Nxe4,Bd3,Nxc3,Qc2,Nb5,Bxh7,Nbxd4,Nxd4,Nxd4,Qe4,Nc6,Be3,g6,Bxg6,fxg6,Qxg6+,Kf8,Bh6+,Rxh6,Qxh6+,Ke7,Qg7+,Ke8,Qg8+,Ke7,Qg7+,Ke8,Rad1,Qe7,Qg8+,Qf8,Qg6+,Qf7,Qxf7+,Kxf7,Rd2,e5,f4,Kf6,fxe5+,Kxe5,h4,Bg4,Rf7,Rd8,Rxd8,Nxd8,Rxc7,Be6,a3,Kf4,Rg7,Kf5,h5,Kf6,Rg3,Nf7,Kf2,Ke5,Ke3,Kd5,Kd2,Kc4,Kc2,b5,Rg6', 'Bf5+,Kd1,Bxg6,hxg6,Nh6', 'https://lichess.org/training/FXLGT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXLza', 'Rapid', 'sardar12', 1879, 'Deniz_Koc', 1940, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Nc3,Nf6,Bb5,Bd7,Bg5,e6,Qe2,a6,Ba4,b5,Bb3,Bb4,O-O,Rc8,Ne5,Nxd4,Qd3,Nxb3,axb3,Bxc3,bxc3,Qc7,Bxf6,gxf6,Ng4,f5,Nf6+,Ke7,Nh5,Qxc3,Qg3,Qxg3,fxg3,Rxc2,Rfe1,Rb2,Nf4,Kd6,Rxa6+,Kc5', 'Nd3+,Kd4,Nxb2', 'https://lichess.org/training/fXLza');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FXmKU', 'Bullet', 'grai62', 1524, 'fredrikk', 1541, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,e6,Bc4,dxc3,Nxc3,f6,O-O,Nge7,Qe2,d6,Rd1,Qc7,Be3,Bd7,Rac1,Ng6,Nb5,Qc8,Bd3,Be7,Bb1,O-O,Qd3,Nge5,Qc2,Nxf3+,gxf3,e5,Nxd6,Bxd6,Rxd6,a5,Rcd1,Rd8,Bb6,h6,Bxd8,Qxd8,Rxd7,Qb6,Qc4+,Kh7,Qf7,Rg8,f4,Nd4,R1xd4,exd4,e5+,Kh8,exf6,gxf6+,Kh1', 'Qc6+,Qd5,Qc1#', 'https://lichess.org/training/FXmKU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXNZR', 'Classical', 'Mohammad1234568', 2086, 'teimourrjbv', 2049, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bd3,Be7,O-O,O-O,Kh1,Bd7,f4,Nc6,Nf3,a6,a3,Rc8,e5,dxe5,Nxe5,Nxe5,fxe5,Nd5,Rf3,Nxc3,Bxh7+,Kxh7,Rh3+,Bh4', 'Qh5+,Kg8,Rxh4,Qxh4,Qxh4', 'https://lichess.org/training/fXNZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXpdu', 'Rapid', 'LevTolstoi', 1909, 'MrTx', 1949, 'd4,Nf6,Nf3,e6,c4,b6,Nc3,Bb4,Bd2,Bb7,Qc2,O-O,Bg5,Bxc3+,bxc3,d5,Ne5,h6,Bh4,Nbd7,Nxd7,Qxd7,Bxf6,gxf6,e3,Kg7,cxd5,Bxd5,c4,Bb7,c5,Bc6,Rc1,Rac8,Ba6,Qd5,Bxc8,Qxg2,Rf1', 'Bb5,Qe2,Bxe2', 'https://lichess.org/training/fXpdu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FxPn6', 'Rapid', 'shivay_saklani25', 1817, 'cmpajedrez', 1775, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,h6,c3,Nf6,d3,O-O,a4,d6,b4,d5,exd5,Bxb4,cxb4,Nxb4,Nc3,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Kh2,Qf6,Ne4,Qf5,Ng3,Qf6,Bb2', 'Bxf3,Bxe5,Qh4+', 'https://lichess.org/training/FxPn6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FxR8O', 'Rapid', 'arhdv', 1914, 'Ahmadmarz', 1899, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5c3,Nf6,Be2,Nd4,Bd3,Be7,O-O,O-O,Na3,Bd7,Nc2,Ne6,Be2,Rc8,b3,Bc6,Nd5,Nc5,f3,Bxd5,exd5,Qa5,Bd2,Qb6,Bc3,Nxb3+,Kh1,Nxa1,Bxa1,Nh5,g3,f5,f4,Nf6,fxe5,dxe5,Bxe5,Ne4,Nd4,Bc5,Nxf5,Rxf5,Rxf5,Nf2+,Rxf2,Bxf2,Bg4,Re8,Be6+,Kh8,Qh5,Rf8,Bxg7+,Kxg7', 'Qg5+,Kh8,Qe5+,Rf6,Qxf6#', 'https://lichess.org/training/FxR8O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FxRKX', 'Rapid', 'wlodzio', 1612, 'jeka2music', 1620, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d3,Bg4,Nf3,Be7,h3,Bh5,O-O,O-O,Nc3,c6,Qe2,Re8,Be3,Bc5,g4,Bxe3,fxe3,Bg6,Nh4,d4,g5,Nh5,Nxg6,Qxg5+,Qg2,Qxe3+,Rf2,hxg6,Bxf7+,Kh8,Qxg6,Nf4,Qg4', 'Nxh3+,Qxh3+,Qxh3', 'https://lichess.org/training/FxRKX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fxtpP', 'Rapid', 'Jamesc1778', 1616, 'mohammed77kemeky', 1737, 'e4,Nc6,Nf3,f5,Nc3,fxe4,Nxe4,d5,Ng3,e5,Bb5,e4,Ne5,Bd7,Nxd7,Qxd7,Qh5+,g6,Bxc6,bxc6,Qe5+,Kf7,d3,Bg7,Qf4+,Nf6,dxe4,dxe4,Nxe4,Rhe8,f3,Kg8,O-O,Nxe4,fxe4,Bd4+,Kh1', 'Rf8,Rd1,Rxf4', 'https://lichess.org/training/fxtpP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FXUuy', 'Rapid', 'Bihagshah', 1743, 'THE_STAPLER', 1752, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Nc3,O-O,Bd3,Be6,O-O,Nbd7,h3,h6,Bxf6,Nxf6,Ne5,b6,f4,c5,dxc5,bxc5,Nc6,Qc7,Nxe7+,Qxe7,Re1,Qc7,f5,Bd7,Qf3,c4,Be2,Bc6,Qf2,Rfe8,Bf3,Qd7,Rad1,Rxe1+,Rxe1,Qxf5,Qc5,Qd7,Re7,Qd8', 'Qxc6,Qxe7,Qxa8+', 'https://lichess.org/training/FXUuy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fxuvr', 'Rapid', 'Wayil', 1825, 'scuffandstumble', 1696, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,e6,c4,Bb4+,Nc3,Ne4,Qb3,a5,a3,Nxc3,axb4,Ne4,bxa5,Nc6,a6,bxa6,cxd5,exd5,Qb7,Ne7,Bxc7,Qc8,Bxa6', 'Qxb7,Bxb7,Rxa1+', 'https://lichess.org/training/Fxuvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXV5A', 'Rapid', 'Ekaterina0712', 1812, 'LX2019', 1812, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Be6,Bxe6,fxe6,O-O,e5,Qe3,Nf6,Nc3,Be7,Bd2,O-O,Ne2,Ng4,Qb3+,d5,exd5,b6,d6+,Kh8,dxe7,Qxe7,Bb4,c5,Bc3,Qh4,h3,Nxf2,Bxe5,Rae8,Bg3,Nxh3+,gxh3,Qxh3,Rxf8+,Rxf8,Qd5,Qg4,Qg2,Re8,Rf1,h6,Nf4,Kh7,Bf2,Qxf4,Bxc5,Qa4,Rf7,Rg8,Bf8,Qd4+,Kh2,Kh8,Ba3,Qe5+,Qg3', 'Qh5+,Kg1,Qxf7', 'https://lichess.org/training/fXV5A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fxvQc', 'Rapid', 'Shalaka555', 1681, 'sergiolino', 1744, 'd4,Nf6,Bf4,e6,e3,c5,Nf3,b6,c3,Bb7,Nbd2,cxd4,Nxd4,Be7,N2f3,O-O,h4,d6,Ne2,Re8,Ng5,h6,Qd3,Nc6,Nf3,e5,Bxh6,gxh6,Ng5,Bf8,Rh3,e4,Qb5,a6,Qa4,b5,Qc2,d5,Rg3,Bd6', 'Ne6+,Bxg3,Nxd8,Bxf2+,Kxf2', 'https://lichess.org/training/fxvQc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FxvtL', 'Bullet', 'doash', 2124, 'Matejus_I', 2230, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,Qc2,O-O,e3,Nbd7,Bd3,c6,Nge2,Re8,O-O,Nf8,Ng3,Ng6,Nf5,Bxf5,Bxf5,Nd7,Bxe7,Qxe7,Rae1,Nf6,f3,Qd6,Kh1,Re7,Qf2,Rae8,e4,dxe4,fxe4,Qb4,e5,Nd5,Ne4,Ndf4,Nd6,Rf8,g3,Ne6,Re4,Qa5,a3,Qd5,h4,c5,h5,Nxd4,hxg6,hxg6,Bh3,Rxe5,Nxf7,Qxe4+,Bg2,Qe2,Nh6+,Kh7,Qxf8,Kxh6', 'Qh8+,Kg5,Qh4#', 'https://lichess.org/training/FxvtL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FxvyC', 'Blitz', 'IM Tahaned2015', 2495, 'Fred_Sth', 2423, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Nc3,Ne4,Nxe4,Bxe4,O-O,d6,Bh3,Bxf3,exf3,Nd7,f4,g6,Rfe1,Re8,b4,Nf6,Rad1,d5,Bg2,a5,b5,Rc8,c5,Qd7,a4,c6,cxb6,cxb5,Qxa5,bxa4,Rc1,Rb8,Rc7,Qd6,Rb1,a3,Ra7,a2,Qxa2,Rxb6,Rc1,Rc6,Rb1,Rec8,Bf3,Rc1+,Rxc1,Rxc1+,Kg2,Rc8,Qa4,h5,Qb3,Kg7,Qb7,Qf8,Ra6,Qe8,h3,Rd8,g4,hxg4,hxg4,Qd7,Qb6,Rc8,g5,Ne8,Ra7,Qd6,Qb7', 'Rc7,Qxc7,Nxc7', 'https://lichess.org/training/FxvyC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fxwvU', 'Rapid', 'AGH1367', 1766, 'Eloest', 1719, 'f4,e6,e4,d5,e5,c5,c3,Nc6,d4,cxd4,cxd4,Nge7,Nf3,Nf5,Be2,Be7,O-O,O-O,b3,Bb4,a3,Be7,b4,Bd7,Bb2,a5,b5,Na7,a4,Nc8,Ng5,Bxg5,fxg5,Qxg5,Bc1,Qe7,Nd2,Nb6,Nb3,Bc8,Nc5,Nd7,Bf4,Nxc5,dxc5,Qxc5+,Kh1,Qe7,Bd3,Bd7,Qg4,Qh4', 'Bxf5,Qxg4,Bxg4', 'https://lichess.org/training/fxwvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXX3f', 'Rapid', 'Renjankarpov', 1791, 'metamamon', 1764, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,Re1,a6,Bxc6+,bxc6,d4,exd4,Nxd4,c5,Nf3,Bg4,Nbd2,Be7,Nf1,O-O,Ng3,Nh5,Nxh5,Bxh5,Qd3,Bg6,Qc4,c6,Be3,d5,exd5,cxd5,Qg4,d4,Bg5,Bxg5,Nxg5,Qb6,c3,d3,h4,h5,Qf3,Qxb2,Ne4,c4,Reb1,Bxe4,Qxe4,Qxc3,Rc1,Rfe8', 'Qxe8+,Rxe8,Rxc3', 'https://lichess.org/training/fXX3f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fxX91', 'Rapid', 'Akej', 1750, 'Tasos82', 1713, 'e4,c5,f4,e6,Nf3,Nc6,Nc3,Nf6,Bc4,Be7,O-O,h6,f5,exf5,exf5,O-O,Kh1,d5,Be2,Bxf5,d4,Bd7,h3,c4,Nh2,Bd6,Ng4,Nxg4,Bxg4,f5,Bh5,Qa5,Bg6,Rf6,Qh5,Raf8,Bxh6,gxh6', 'Qxh6,R8f7,Bxf7+,Kxf7,Qh7+', 'https://lichess.org/training/fxX91');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FxYEv', 'Rapid', 'One_Nation12', 1834, 'pwlk', 1817, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nf3,Bg4,c3,Bd6,O-O,O-O,Bg5,Nbd7,Bc2,Re8,Qd3,h6,Bh4,c6,Nbd2,Qc7,h3,Bxf3,Nxf3,Ne4,Rfe1,Ndf6,Bxf6,Nxf6,Nd2,Bh2+,Kf1,Qf4,Nf3,Ne4,Re3,Nxf2', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/FxYEv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FXyUP', 'Rapid', 'Vasyalisov', 1903, 'Ser2210', 1891, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,Nc3,Nf6,Bc4,e6,d3,Nbd7,O-O,Bg4,h3,Bh5,Bg5,Be7,Re1,O-O,d4,a6,Bd3,Qb6,b3,Bxf3,gxf3,Qd8,Be4,Nd5,Bxe7,Qxe7,Nxd5,cxd5,Bd3,Qh4,Re3,Qxh3,f4,Qh6,Rg3,Nf6,Qf3,Rac8', 'Rh3,Qxh3,Qxh3', 'https://lichess.org/training/FXyUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXyyx', 'Rapid', 'rubenmarcos', 1896, 'amar13', 1905, 'e4,e5,Nf3,Nc6,Bb5,d6,d3,Bd7,O-O,Be7,Be3,Nf6,Nbd2,O-O,a3,a6,Ba4,b5,Bb3,Na5,Ba2,c5,h3,Nc6,c3,Qc8,g4,Nxg4,hxg4,Bxg4,Kg2,Kh8,Rh1,f5,Bd5,f4,Bxc5,dxc5,Qg1,Bh3+', 'Rxh3,Qg4+,Kh2', 'https://lichess.org/training/fXyyx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fXzbb', 'Rapid', 'bravethetawave', 2037, 'vino9696', 1996, 'd4,d5,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,Nf6,e3,O-O,Bd3,Nbd7,Nf3,b6,O-O,Bb7,Re1,c5,Bb2,Rc8,Ne5,Nxe5,dxe5,Nd7,f4,Qc7,Qh5,g6,Qh6,Qc6,e4,dxe4,Bxe4,Qc7,Bxb7,Qxb7,Re3,f5,Rd1,Rf7,Red3,Nf8,Bc1,Qe4,Be3,Re8,Bf2,Qe2,Bh4,Qh5,Qxh5,gxh5,Rd8,Rxd8,Rxd8,h6,Bf6,Kh7,Re8,Kg6,Kf2,h4,h3,Nd7,Rxe6,Nxf6,exf6,Rxf6,Re7,Rf7,Re8,Kf6,Rh8,Kg6,Kf3,Kh5,Rg8,a5,g3,Rc7', 'g4+,fxg4+,hxg4#', 'https://lichess.org/training/fXzbb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FXZGH', 'Blitz', 'Wladimir_1966', 1837, 'amavisca77', 1834, 'd4,Nf6,c4,e6,e3,d5,Nf3,Be7,Nc3,O-O,Be2,dxc4,Bxc4,c6,a3,b5,Be2,Nbd7,b4,a5,Rb1,axb4,axb4,Bd6,O-O,Ng4,h3,Nh6,e4,Qf6,e5,Bxe5,dxe5,Nxe5,Nxe5,Qxe5,Bxh6,Qxc3,Bd2,Qf6,Qc2,e5,Bc3,Bf5,Bd3,g6,Bxf5,gxf5,f4,Qg6,Bxe5,Rae8,Qc3,f6,Rf3,Kh8,Bd6,Rg8,Rb2,Rd8,Qxc6,Rc8,Qxb5,Rc1+,Kh2,h5,Qe2,h4,b5', 'Qg3+,Rxg3,hxg3#', 'https://lichess.org/training/FXZGH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fy0LB', 'Classical', 'agarnier', 1657, 'maxboj', 1656, 'd4,d5,Bf4,Nf6,e3,e6,Bd3,Bb4+,c3,Bd6,Bg3,O-O,Nf3,Nbd7,Nbd2,b6,Qc2,Bb7,Bxd6,cxd6,O-O-O,Rc8,Ng5,g6,h4,h6,Ngf3,Kh8,Rdg1,Nh7,g4,Qf6,Rg3,e5,dxe5,dxe5,g5,Qc6,e4,h5,exd5,Qxd5,Kb1,Nc5,Bc4,Qd6,Re1,Bxf3,Rxf3,e4,Nxe4,Qc6,Bd3,Nxd3,Qxd3,Rcd8,Qe3,Rfe8,Qf4,Rd7,Kc2,Qd5,Nf6,Nxf6,gxf6,Rxe1', 'Qh6+,Kg8,Qg7#', 'https://lichess.org/training/Fy0LB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fy1pp', 'Blitz', 'Kostis_M_Sk', 2133, 'WFM Idrisova_Roza', 2269, 'b3,d5,Bb2,Bf5,e3,e6,f4,Nf6,Nf3,h6,Bb5+,c6,Be2,a5,a4,Na6,O-O,Nb4,d3,Be7,Ne5,O-O,h3,Bh7,g4,Nd7,Nxd7,Qxd7,Nd2,f6,e4,dxe4,Nxe4,Rad8,Bf3,Nd5,Qd2,Qc7,Bg2,Bb4,Qf2,Ne7,Rad1,Nd5,Qf3,Qb6+,d4,Qc7,c3,Be7,c4,Nb4,f5,exf5,gxf5,Kh8,Ng3,Bd6,Ne4,Rfe8,Nxd6,Qxd6,Ba3,Qe7,Bxb4,Qxb4,Rd3,Re1,Rxe1,Qxe1+,Kh2,Re8,d5,Qe5+,Qg3,Qxf5,Re3,Rxe3,Qxe3,cxd5,Bxd5,Qe5+,Qxe5,fxe5,Kg3,b6,Kg4,Bc2,Bc6,Bxb3,Bb5,g5,Kf5,Kg7,Kxe5,Bd1,Kf5,Be2', 'c5,bxc5,Bxe2', 'https://lichess.org/training/fy1pp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fy5vN', 'Rapid', 'hannibal_13', 1969, 'CalcularLimitada', 2023, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,c3,O-O,O-O,d6,h3,Na5,Bc2,h6,Re1,c5,Nbd2,Nc6,Nf1,Be6,a4,Qc7,axb5,axb5,Be3,Qb7,Qd2,Rxa1,Rxa1,Ra8,Qc1,b4,d4,cxd4,cxd4,exd4,Nxd4,Nxd4,Rxa8+,Qxa8,Bxd4,Qc6,e5,Ne4,Ng3,Nxg3', 'Bh7+,Kxh7,Qxc6', 'https://lichess.org/training/fy5vN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FY8Kb', 'Classical', 'catafalque', 1819, 'Skittles_17', 1916, 'd4,c6,c4,d5,Nf3,Nf6,Nc3,h6,Bf4,Bf5,e3,e6,Be2,Be7,O-O,O-O,cxd5,Nxd5,Nxd5,exd5,Qb3,Qb6,Qxb6,axb6,a3,Nd7,Ne5,Nf6,Bd3,Bxd3,Nxd3,Nh5,Rfc1,Nxf4,Nxf4,g5,Nd3,Rfc8,b4,f6,Rc3,Kf7,g4,Rh8,Kg2,b5,Nc5,b6,Nd3,Rac8,a4,Ra8,Rxc6,Rxa4,Rxa4,bxa4,Rxb6,Ra8,Rc6,a3,Rc1,Ke6,Ra1,Kd7,Kf3,Kc6,Ke2,Kb5,Kd2,Bxb4+,Nxb4,Kxb4,Kc2,Rc8+,Kd2,Rc3,Ra2,Kb3', 'Rxa3+,Kxa3,Kxc3', 'https://lichess.org/training/FY8Kb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FY9MN', 'Blitz', 'drndarevic_m', 1539, 'jtp_jack', 1519, 'e4,c5,Bc4,d6,Nf3,Nf6,Ng5,e6,d3,Nbd7,Be3,Be7,Nc3,O-O,O-O,h6,Nh3,a6,a3,b5,Ba2,Bb7,b4,Rc8,Ne2,Nb6,c3,c4,d4,Nxe4,Bb1,Nf6,Qc2,Nbd5,Nef4,Qd7,Nh5,Nxe3', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/FY9MN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYaG9', 'Rapid', 'nikolajtesla', 1899, 'Blancacapa', 1618, 'e4,e5,f4,d6,Nf3,Bg4,Nc3,c6,Bc4,Nh6,O-O,b5,Bb3,a5,a3,Nd7,h3,Be6,Bxe6,fxe6,d4,Be7,fxe5,dxe5,dxe5,O-O,Bxh6,gxh6,Qd2,Bc5+,Kh1,Kg7,Rad1,Ra7,Qe2,Qe7,Nh2,Nxe5,Ng4,Ng6,Rxf8,Qxf8,Qd2,Qf4,Qd8,Be7,Qc8,h5,Nh2,Bd6,Nf1,Rf7,Ne2,Qe5,Qxc6', 'Rxf1+,Rxf1,Qh2#', 'https://lichess.org/training/FYaG9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fyaho', 'Rapid', 'zitoun', 1697, 'AgaTaRo', 1712, 'e4,e5,Nf3,Nf6,d3,Nc6,a3,d5,exd5,Qxd5,Nc3,Qd8,h3,h6,Ne2,Bd6,Bd2,O-O,Qc1,e4,dxe4,Nxe4,Be3,Bc5,Bxc5,Nxc5,Ng3,Re8+,Be2,Nd4,Nxd4,Qxd4,O-O,Ne4,c3,Qc5,Nxe4,Rxe4,Bf3,Re5,Re1,c6,Qd2,Be6,b4,Rxe1+,Rxe1,Qe7,Re3,Rd8,Qc2,Qg5,Kf1,Bc4+,Kg1,Be6,Kh1,Bf5,Be4,Bxe4,Rxe4,Qd5,Rg4,Qe6,f3,Qe1+,Kh2,Qe5+,Kh1,Qe1+,Kh2,Qe5+,Kh1,Rd6', 'Re4,Qe6,Rxe6', 'https://lichess.org/training/Fyaho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fyaYv', 'Rapid', 'zac613', 2080, 'Romeo1426', 2172, 'd4,d5,Nf3,e6,Bf4,Nf6,e3,c5,Nbd2,Nc6,c3,Bd6,Ne5,O-O,Bd3,cxd4,exd4,Bc7,O-O,Nd7,Re1,Ndxe5,dxe5,f5,Nf3,h6,h4,Ne7,h5,a6,Nd4,Bb6,Re3,Rf7,Rg3,Kh8,Rg6,Nxg6,hxg6,Rc7,Qh5,Qf8,Re1,Bxd4,cxd4,Bd7,Re3,Kg8,Bxh6,gxh6,g7,Qf7', 'Qxh6,Qxg7,Rg3,Qxg3,fxg3', 'https://lichess.org/training/fyaYv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYcVI', 'Blitz', 'NoobMaster68419', 1910, 'HecretaryBird', 1860, 'd4,e6,c4,Nf6,Nc3,d5,Bf4,c5,e3,Nc6,Nf3,a6,Bd3,dxc4,Bxc4,b5,Be2,c4,h3,Bd6,Bxd6,Qxd6,O-O,O-O,Qc2,Bb7,a4,Nb4,Qd2,Ne4,Nxe4,Bxe4,axb5,axb5,Ng5,Bd3,Bxd3,Nxd3,b3,h6,Nf3,Rfc8,bxc4,Rxa1,Rxa1,bxc4,Ne1,Nb4,Nc2,Nxc2,Qxc2,g5,Ra4,c3,Ra1,Kf8,Rb1,Rc4,Rb3,Qc7,Rb1,Ke7,Rc1,f5,Qd3,c2,d5,Kf6', 'd6,Qc8,d7,Qd8,Qxc4', 'https://lichess.org/training/FYcVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fyCzW', 'Rapid', 'BlackburneMF', 1699, 'FabolousG', 1650, 'e4,c5,Nc3,e6,Nf3,d5,exd5,exd5,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,O-O,Nf6,Bg5,Be7,Re1,O-O,Bxf6,Bxf6,Nxd5,Bxd4,Bxc6,Bxc6,Ne7+,Kh8,c3,Bf6,Nxc6,Qxd1,Raxd1,bxc6,g3,c5,a3,Rfe8,Rf1,Re2,Rd5,Rxb2,Rxc5,Rb3,Rc7,Rxa3,Rxf7,Rxc3,Rd1,h6,Rdd7,a5,Ra7,Rxa7,Rxa7,Rc1+,Kg2,Ra1,h4,a4,Kf3,a3,Ke4,Ra2,f4,Ra1,Kf5,Bb2', 'Kg6,Rc1,Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/fyCzW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fYDeg', 'Rapid', 'E4is2hard', 1759, 'Alex_Anaua', 1763, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,e6,Nge2,Be7,O-O,O-O,d3,Qc7,f4,a6,h3,Nc6,Kh2,b5,g4,Bb7,Ng3,Rad8,f5,exf5,Nxf5,Ne5,Nxe7+,Qxe7,Bg5', 'Nfxg4+,hxg4,Qxg5', 'https://lichess.org/training/fYDeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fygh9', 'Rapid', 'Willyboy', 1873, 'romario19860503', 1958, 'c4,e5,e4,c5,Nc3,Nc6,d3,d6,Nf3,g6,Be2,Bg7,Nd5,Nge7,Bg5,O-O,Nf6+,Kh8,Nd5,Qc7,Nc3,a6,O-O,Be6,Be3,f5,exf5,Nxf5,Bd2,Nfd4,Ne4,Nxe2+,Qxe2,Bg4,Bc3,Bxf3,gxf3,Rf4,Ng3,Raf8,Rae1,Rxf3,Qe4,R3f4,Qe3,Qf7,Re2,b5,Ne4,Qe7,a3,b4,axb4,cxb4,Bd2,Nd4,Bxb4,Nxe2+,Qxe2,Qe6,Kh1,Rd8,Bd2,d5,cxd5,Rxd5,Bxf4,exf4,f3,Qd7,Rc1,Bd4,Qc2,Be3,Qc8+,Kg7', 'Rc7,Qxc7,Qxc7+', 'https://lichess.org/training/fygh9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYGz8', 'Rapid', 'Gezin', 1782, 'arulraj', 1725, 'c4,c5,Nc3,e6,e4,Nc6,Nf3,a6,d4,cxd4,Nxd4,Ne5,Bf4,Ng6,Be3,Nf6,Bd3,Bb4,O-O,Bxc3,bxc3,O-O,f4,d6,e5,dxe5,Bxg6,exd4,Bxd4,hxg6,g4,Qc7,g5,Nd7,Rf3,Qxc4,Rh3,e5,fxe5,Nxe5,Rh4,Nc6,Qe1,Nxd4,cxd4,Be6,Rd1,Bd5,Qf1,Qxa2,Qh3,f6', 'Rh8+,Kf7,Qd7#', 'https://lichess.org/training/FYGz8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fYhua', 'Classical', 'BoJiocbI', 1755, 'Gloobal', 1743, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,Be7,O-O,Nf6,Qe2,a6,Rd1,Qc7,e5,Ng4,Ng5,Ngxe5,f4,Nxc4,Qxc4,b5,Qe2,Bb7,Nce4,d5,Qh5,g6,Qh6,dxe4,Qg7,Rf8,Nxh7,f5,Nxf8', 'Bc5+,Kf1,Qxg7', 'https://lichess.org/training/fYhua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fyiwQ', 'Rapid', 'vladimirIsaev777', 2244, 'fiermallakaster', 2241, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,g3,h6,Bg2,Nf6,O-O,d6,Be3,Qc7,a3,Be7,Na4,Nd7,Qg4,Bf6,Rad1,Nce5,Qe2,O-O,f4,Nc4,Bf2,Rb8,f5,Bxd4,Bxd4,exf5,exf5,Nce5,Nc3,Nf6,Nd5,Nxd5,Bxd5,Bd7,f6,g6,Qe4,Rfe8,Bxe5,Bf5,Rxf5,gxf5,Qxf5,Rxe5,Qg6+,Kf8,Qxh6+,Ke8,Qh8+,Kd7,Qg7', 'Qc5+,Kh1,Rxd5,Qxf7+,Kc6,Qxd5+,Qxd5+,Rxd5,Kxd5', 'https://lichess.org/training/fyiwQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYK0Y', 'Rapid', 'mooe', 1974, 'Acasvil', 2105, 'e4,c5,Nf3,a6,a4,Nc6,c3,e6,d4,cxd4,cxd4,d5,exd5,exd5,Nc3,Nf6,Bg5,Be7,Be2,h6,Bh4,O-O,O-O,Bf5,Re1,Qb6,b3,Bb4,Rc1,Ne4,Nxe4,Bxe1,Nf6+,gxf6,Qxe1,Rfe8,Qd2,Kg7,Bxf6+,Kxf6,Qxh6+,Bg6,Bd3,Rg8,Qg5+,Kg7,Nh4,Nxd4,Re1,Rae8,Rb1,Qxb3,Rxb3', 'Re1+,Bf1,Ne2+,Kh1,Rxf1#', 'https://lichess.org/training/FYK0Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fYkG0', 'Rapid', 'ohaio', 1852, 'Orlac', 1992, 'd4,b6,Bf4,Bb7,e3,g6,Nd2,Bg7,Ngf3,e6,c3,c5,Be2,cxd4,exd4,Nc6,O-O,Nf6,h3,Ne7,Rb1,Ned5,Bg3,Nh5,Bh4,Bf6,Bxf6,Qxf6,Ne5,d6,Bb5+,Ke7,Nc6+,Kf8,a3,Ndf4,Ne4,Qh4,Qg4,Qxg4,hxg4,a6,Nxd6,axb5,Nxb7,Nf6,f3,h5,gxh5,Rxh5,Nd6,Kg7,Ne5,Rah8,Ndxf7,Rh1+,Kf2,Rxf1+,Rxf1,Rh2,Kg3,Rxg2+,Kxf4,Nd5+,Ke4', 'Re2+,Kd3,Nf4#', 'https://lichess.org/training/fYkG0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fylib', 'Rapid', 'abuelo6', 2108, 'mahmoudkks', 2336, 'b3,d5,Bb2,Nf6,e3,e5,Bxe5,Be7,Nf3,O-O,Be2,c5,O-O,Nc6,Bb2,Bd6,c4,d4,exd4,cxd4,d3,Re8,Nbd2,Bc5,h3,a5,Re1,Qd6,Nf1,h6,Ng3,Bd7,Bc1,Bb4,Bd2,Ba3,Bf1,b6,Bc1,Bb4,Bd2,Ba3,Bc1,Bb4,Rxe8+,Rxe8,Nd2,Bc3,Rb1,Ne5,Nde4,Nxe4,Nxe4,Qg6,Bf4,Bb4,Bg3,f5,Bxe5,Rxe5,Ng3,Qd6,Qh5', 'f4,Qxe5,Qxe5', 'https://lichess.org/training/fylib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYoPR', 'Rapid', 'mary89', 1727, 'dchess20', 1724, 'c4,d5,b3,d4,Nf3,c5,Bb2,e6,b4,Nf6,g3,a6,Bg2,Nc6,b5,axb5,cxb5,Nb4,a3,Nbd5,O-O,Nb6,d3,Na4,Qb3,Nxb2,Qxb2,Be7,Nbd2,O-O,a4,Nd5,Ne5,Bf6,Ndc4,Nc3,e3,Rxa4,exd4,Rxa1,Rxa1,Qxd4,Nf3,Qxd3,Nfe5,Ne2+,Kh1,Qc3,Qxe2,Qxa1+,Bf1,b6,Ng4,Bb7+,Kg1,Bd4,Nd6,Bd5,Ne3,Bb3,Qf3,e5,Nef5,Bd1', 'Ne7+,Kh8,Nxf7+,Rxf7,Qxf7', 'https://lichess.org/training/FYoPR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fyoxT', 'Rapid', 'habbib_abol', 1940, 'KM-student_uj-ac_za', 1852, 'e4,e5,Nf3,d6,Bc4,a6,c3,Bd7,d4,exd4,cxd4,Nc6,d5,Ne5,Nxe5,dxe5,O-O,Bd6,Nc3,Nf6,Re1,O-O,Bg5,Bg4', 'Bxf6,Bxd1,Bxd8', 'https://lichess.org/training/fyoxT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fyp27', 'Blitz', 'amir_ramy1', 1876, 'jarovor', 1888, 'e4,d6,d4,Nf6,Bd3,g6,Ne2,Bg7,O-O,O-O,c3,e5,f4,Nc6,f5,gxf5,Ng3,f4,Nf5,Bxf5,exf5,Kh8,d5,Ne7,c4,Qd7,Nc3,Nxf5,Ne4,Rg8,Rf3,Nxe4,Bxe4,Nd4,Rh3,f5,Bxf4,fxe4', 'Rxh7+,Kxh7,Qh5+,Bh6,Qxh6#', 'https://lichess.org/training/Fyp27');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYpjP', 'Blitz', 'Sandeshm', 1641, 'Navazvk', 1530, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,O-O,Nf6,c3,d6,Bd5,Bg4,Bxc6+,bxc6,Qe2,O-O,Be3,Bb6,Bxb6,cxb6,Qe3,d5,Nbd2,dxe4,Nxe4,Nd5,Qe1,Bxf3,gxf3,Nf4,Kh1,Qh4,Rg1,Qh3,Rg3,Qe6,Qg1,g6,Re1,Qxa2,b4,Ne2,Qg2,Nxg3+,Qxg3,Kh7,Nf6+,Kg7,Nd7,Rfd8,Nxe5,Qd2,Rg1,Qxc3,Nxg6,fxg6,Qxg6+,Kh8', 'Qxh6#', 'https://lichess.org/training/FYpjP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYPL4', 'Rapid', 'Ronnie--Pickering', 1940, 'Rincofowler', 1709, 'e4,Nc6,Nf3,d6,Bc4,h6,O-O,e5,Bxf7+,Kxf7,d4,Nf6,dxe5,Ng8,Nc3,Bg4,h3,Bh5,e6+,Ke8,Qd5,Nf6,Qf5,Bxf3', 'Qg6+,Ke7,Qf7#', 'https://lichess.org/training/FYPL4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fYQ7A', 'Rapid', 'FrereKeiser', 1840, 'EVdILla', 1758, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,Bg4,exd6,Bxd6,h3,Bh5,g4,Bg6,Bb5,Ne7,Nc3,O-O,Be3,a6,Bxc6,Nxc6,Qd2,Re8,O-O-O,Bxe4,Nxe4,Rxe4,Qd3,Re8,Ng5,g6,h4,Ne5,Qb3,Qe7,Rhe1,Nxg4,Bd4,Qxe1', 'Qxf7#', 'https://lichess.org/training/fYQ7A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fYqI9', 'Bullet', 'NM viper3m', 2240, 'H3paJ', 1867, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,f4,Bb4,Nf3,Bxc3+,bxc3,Nc6,Bd3,Nge7,Qe2,O-O,O-O,f6,e5,b6,exf6,Rxf6,Ne5,d6,Nxc6,Nxc6,Qe4,g6,Qxc6,Rb8,Ba3,e5,fxe5,Bb7,Qc4+,Rf7,Qxf7+,Kh8,e6,Qg5,Bxd6', 'Qxg2#', 'https://lichess.org/training/fYqI9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYQUw', 'Blitz', 'tunxhi', 1946, 'WGM KaterinaNemcova', 1968, 'e4,c5,Bc4,e6,Nc3,Nc6,d3,Nf6,Nge2,d5,exd5,exd5,Bb3,Be7,O-O,O-O,Bg5,d4,Bxf6,Bxf6,Ne4,Be5,Nxc5,Qd6,Ne4', 'Bxh2+,Kh1,Qh6', 'https://lichess.org/training/FYQUw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fyR5b', 'Blitz', 'neveralal', 1713, 'layunta', 1710, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Bd7,Nf3,e6,Bd3,Be7,O-O,Bf6,Ne4,Nc6,c3,Nce7,Qb3,b6,Bf4,Nd5,Bg3,Nge7,c4,O-O,cxd5,exd5,Nxf6+,gxf6,Qc2,c6,Bxh7+,Kh8,Bh4,Kg7,Bd3,Ng6,Bg3,Rh8,h3,Qc8,Rfe1,Bxh3,gxh3,Qxh3,Nh2,Nh4,Bf1', 'Nf3+,Kh1,Qxh2+,Bxh2,Rxh2#', 'https://lichess.org/training/fyR5b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYRFB', 'Rapid', 'Neomala', 1969, 'Testownia_openingow', 2129, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,Nf6,e5,Qa5+,Nc3,Qxe5+,Be3,d5,Ne2,c5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,d4,Bf4,Qh5,Ng3,Qxd1,Raxd1,e5,Bd2,Rb8,b3,Be7,c3,O-O,cxd4,exd4,Rfe1,Bf6,Bf4,Rb6,Ne4,Re8,Nxf6+,Nxf6,Rxe8+,Nxe8,Re1,Kf8,g3,f6,Bd2,Ra6,a4,Rb6,Rb1,c4,b4,a5,b5,Nd6,Bxa5,Rb7,Bb4,Ke7,Re1+,Kd7,f3,c3,Rd1', 'c2,Rc1,d3', 'https://lichess.org/training/FYRFB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FyRHA', 'Rapid', 'cottreau123', 1774, 'SirBenusHurus', 1679, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nxe5,Nxe5,d4,Bb4+,c3,Bxc3+,bxc3,Nxc4,Qd3,d5,O-O,Ne7,Bg5,f6,Bf4,g5,exd5,gxf4,Qxc4,Nxd5,Re1+,Ne7,Na3,c6,Qc5,Rf8,Nc4,Kf7,Nd6+,Kg7', 'Rxe7+,Qxe7,Nf5+,Bxf5,Qxe7+', 'https://lichess.org/training/FyRHA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYRo5', 'Blitz', 'Danila_lipovoj', 2155, 'CM innocentguy', 2534, 'e4,c5,d4,d6,c3,cxd4,Nf3,Nf6,Bd3,Nc6,O-O,Bg4,h3,Bxf3,Qxf3,dxc3,Nxc3,g6,Rd1,Bg7,Bf4,O-O,Bc4,Nd7,Nd5,Nde5,Qe2,Nxc4,Qxc4,Ne5,Qb3,e6,Ne3,Qe7,Rac1,Rac8,Rxc8,Rxc8,Qa3,a6,Qxd6,Qxd6,Rxd6,Nc6,Rd2,b5,a3,Nd4,Ng4,h5,Be5,hxg4,Bxd4,gxh3,Bxg7,Kxg7,gxh3,Rc6,Kg2,Rc4,f3,a5,Kg3,b4,axb4,Rxb4,Rc2,a4,e5,g5,Re2,Kg6,Rc2,Rb5,Kg4,Rxe5,Rc4,Rb5,Rc2,Rb4+,Kg3,e5,Re2,f6,Rc2,Kf5,Re2,Rb3,Rf2,e4,Kg2,Rxf3,Rc2,Rb3,Kf2,Kf4,Kg2,f5,Rf2+,Rf3,Rc2,e3', 'Rc4+,Ke5,Kxf3', 'https://lichess.org/training/FYRo5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYSDx', 'Blitz', 'Ander205', 1855, 'gwsos', 1794, 'd4,d5,c4,e6,e3,Be7,cxd5,exd5,Nf3,Nf6,Be2,Nc6,O-O,h6,Nc3,a6,Bd2,Bf5,a3,Qd7,b4,g5,b5,axb5,Bxb5,g4,Ne5,Qd6,a4,h5,a5,Bd7,Nxd7,Qxd7,e4,dxe4,Qe2,Qxd4,Bxc6+,bxc6,Rfd1,Qe5,g3,h4,Re1,hxg3,fxg3,Rxa5,Rxa5,Qxa5,Nxe4,Qb6+,Kg2,Nd5,Ng5,O-O,Qe4,Bxg5,Bxg5,Qb2+,Re2,Qg7,Bd2,Rd8,Qa4,Qg6,Re4,Nb6,Qb4,f5,Qb3+,Kf8,Bb4+,Kg7,Re7+,Kh6,Qe3+,Kh5,Bd2,Nd5', 'Rh7+,Qxh7,Qg5#', 'https://lichess.org/training/FYSDx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FYsEf', 'Rapid', 'Mifra888', 1966, 'ForestYellow', 2211, 'd4,e6,c4,d5,a3,Nf6,Nc3,Bd6,Bg5,h6,Bh4,g5,Bg3,Bxg3,hxg3,dxc4,e3,Nbd7,Bxc4,Nb6,Bb3,Bd7,Nf3,Bc6,Ba4,Nxa4,Nxa4,g4,Ne5,Bxg2,Rg1,Bc6,Nxg4', 'Nxg4,Qxg4,Bxa4', 'https://lichess.org/training/FYsEf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fYSjG', 'Rapid', 'Romario123456', 1774, 'Pantaki', 1699, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,h6,d4,exd4,cxd4,Bb4+,Nc3,d6,h3,Nf6,O-O,Bxc3,bxc3,Nxe4,Re1,d5,Bd3,Bf5,Nd2,Qh4,f3,O-O-O,fxe4,dxe4,Bxe4,Bxe4,Rxe4,Qg3,Qg4+,Qxg4,Rxg4,g5,Re4,f5,Re6,g4,hxg4,fxg4,Ne4,h5,Bg5,Rde8,Rxe8+,Rxe8,Re1,Ne7,Bxe7,Rxe7,Kf1,h4,Re3,Rf7+,Kg1,Rf4,Nd2,g3,Rf3,Rg4,Nc4,Re4,Kf1,Re6,Ne5,b6,Rf4,Rh6,Nf7,Rh7,Ng5,Rh5,Ne6,Rh6,Ng5,Rh5,Nf3,h3,gxh3,Rxh3,Kg2,Rh5,Kxg3,Ra5,Rf8+,Kb7,Ne5,Rxa2,Nd7,Ra3,Rf3,a5,c4', 'Rxf3+,Kxf3,a4,Ne5,a3,Nd3,a2', 'https://lichess.org/training/fYSjG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fYT4Y', 'Rapid', 'SrbinUSvemiru', 1669, 'notarealbanana', 1669, 'e4,c5,Nf3,d6,Bc4,a6,a4,Nf6,d3,g6,O-O,Bg7,c3,O-O,Re1,Nc6,h3,e6,Bb3,Bd7,Nbd2,Rc8,Nf1,Na5,Bc2,Qb6,Be3,Nc6,Qd2,Rfe8,Ng3,h5,Rab1,Qd8,b4,cxb4,cxb4,b5,a5,e5,Bb3,Qe7,Ng5,Rf8,Nf3,Be6,Bh6,Bxb3,Rxb3,Qe6,Rc3,d5,Rb1,dxe4,Nxe4,Nxe4,dxe4,Rfd8,Qe3,Qa2,Bxg7', 'Qxb1+,Rc1,Rd1+,Rxd1,Qxd1+,Kh2,Kxg7', 'https://lichess.org/training/fYT4Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FyT9H', 'Rapid', 'kang_waras', 1918, 'DudeViki', 1818, 'Nf3,d5,e4,d4,Bc4,e6,O-O,c5,d3,Nc6,c3,e5,Ng5,Nh6,Qf3,f6,Ne6,Bxe6,Bxe6,g6,Nd2,Qe7,Bd5,Nf7,Nc4,Ncd8,a4,Bg7,h3,O-O,g4,Kh8,h4,Ne6,Bd2,Bh6,Bxh6,Nxh6,Kg2,Nf4+,Kg3,Nxd5,exd5,f5,g5,f4+,Kg2,Nf5,Qg4,Qd7,Nxe5,Qxd5+,Nf3,dxc3,bxc3,Rae8,Rad1,Re2,Kg1,Rfe8,c4,Qc6,h5,R8e3,hxg6,Rxf3,Qxf5', 'Rg3+,fxg3,Qg2#', 'https://lichess.org/training/FyT9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fYuJw', 'Blitz', 'HanRoo18', 1667, 'deepak_arul', 1679, 'e4,e5,Nf3,Nf6,Nc3,Bb4,d3,d6,Bd2,Bg4,Be2,O-O,h3,Bh5,g4,Bg6,Nh4,Nbd7,Nxg6,fxg6,a3,Ba5,b4,Bb6,Na4,Bd4,c3,Bxf2+,Kxf2,Nxg4+,Kg2,Qh4,hxg4', 'Rf2+,Kg1,Qg3#', 'https://lichess.org/training/fYuJw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FyUkX', 'Blitz', 'bruxochess2021', 2151, 'NM DoctorHeart', 2134, 'e4,c5,f4,Nc6,Nf3,g6,d3,Bg7,Be2,e6,Nc3,d5,e5,Nge7,O-O,h5,Nb1,Nf5,c3,d4,c4,O-O,Na3,a6,Nc2,b5,b3,Bb7,Ng5,bxc4,bxc4,Nb4,Nxb4,cxb4,Bf3,Rb8,Qe2,a5,Bd2,Qb6,Rab1,Rfd8,Kh1,Bxf3,Qxf3,Qb7,Qe2,h4,Kg1,Qb6,Ne4,h3,gxh3,Kf8,Rfc1,Ke7,c5,Qc6,Qg2,Rh8,Re1,Rh5,Rf1,Rbh8,Rf3', 'Nh4,Qe2,Nxf3+', 'https://lichess.org/training/FyUkX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fYVN1', 'Classical', 'Kifsif', 1611, 'MsConcordia', 1643, 'd4,d5,e3,e6,Nf3,Nf6,Bd3,Nbd7,c4,c5,dxc5,Bxc5,cxd5,Nxd5,Bb5', 'Qa5+,Nc3,Nxc3', 'https://lichess.org/training/fYVN1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fyw3f', 'Rapid', 'mostovan', 1963, 'startrek1', 2076, 'e4,c5,Nf3,d6,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,O-O,Be7,Qe2,Nf6,Rd1,Qc7,Bg5,O-O,Bxf6,Bxf6,Nb5,Qa5,Nxd6,Ne5,Bb3,Nxf3+,gxf3,Qe5,Rab1,b6,Nc4,Qg5+,Kh1,Ba6,Rg1,Qh5,Qe3,Bxc4,Bxc4,Rfd8,f4,Bd4,Qg3,g6,Be2,Qc5,Rg2,Rac8,Rbg1,Qc2,Bh5,Qxe4,Bf3,Qf5,Bg4,Qb5,h4,h5,Bf3,Rc2,Be4,Rc7,Bxg6,fxg6,Qxg6+,Rg7,Qxe6+,Kh7', 'Rxg7+,Bxg7,Qg6+,Kh8,Qxg7#', 'https://lichess.org/training/fyw3f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fyWaZ', 'Rapid', 'chess50years', 2274, 'cpjoseph', 1899, 'Nf3,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Qa4+,Bd7,Qb3,b6,d4,O-O,Bc4,Nc6,Ba6,Na5,Qa3,Bg4,Bg5,Re8,Be2,Bc8,O-O,Bb7,e5,Rc8,Rfd1,Qd7,Bh4,Qg4,h3,Qh5,Kf1', 'Bxf3,Bxf3,Qxh4', 'https://lichess.org/training/fyWaZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fywhw', 'Rapid', 'beyazfil', 2045, 'troytorres', 1915, 'd4,d5,c4,e6,a3,Nf6,Nc3,c5,e3,cxd4,exd4,Be7,Nf3,Nc6,h3,a6,Be2,O-O,O-O,dxc4,Bxc4,Qc7,Be3,b5,Ba2,Bb7,Rc1,Rac8,Qe2,Qd6,Rfd1,b4,axb4,Nxb4,Bb1,Rfd8,Ne5,a5,f3,Nfd5,Bf2,h6,Qe4,f5,Qe1,Bg5,Nxd5,Bxc1,Nxb4,Qxb4,Rxc1,Qxe1+,Rxe1,Bd5,Ng6,Rb8,Bh4,Rd7,Re2,Rb4,Be1,Rxd4,Bc3,Rd1+,Re1,Rxe1+,Bxe1,Bb3,Kf2,Rd1,Bxf5,exf5,Bxa5,Kf7,Ne5+,Ke6,f4,Rd5,Bc3,g5,fxg5,hxg5,Nf3,g4,Nd4+,Kd6,Nxb3,gxh3,gxh3,Rd3,Kg2,f4,Nd2,Kd5,Nf3,Ke4,Ng5+,Kf5,Nf3,Ke4,Nd2+,Ke3,Nc4+,Ke2,Ne5,Rg3+,Kh2,Rg5,h4,Rh5,Kh3,f3,Ng4,Rc5,Bd4,Rc4,Bc3', 'Rxg4,Kxg4,f2', 'https://lichess.org/training/Fywhw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fYxT1', 'Rapid', 'evenbaadsvik', 1653, 'maren123', 2029, 'b3,d5,g3,e6,Bh3,Qf6,c3,Kd8,Ba3,Ne7,Nf3,e5,Rg1,d4,e3,dxc3,dxc3+,Bd7,Nbd2,Nd5,c4,Nc3,Qc2,Ne4,Qd3,Nc5,Bxc5,e4,Qxe4,Qxa1+,Nb1,Qxa2,Qxb7,Bc6,Qb4,Bxf3,Bxf8,Nd7,Bxg7,Re8,Bf6+', 'Nxf6,Qd2+,Qxd2+', 'https://lichess.org/training/fYxT1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FyyQe', 'Rapid', 'CM IngDiegoMRChess', 2176, 'SANDINO20', 1849, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Bg5,d5,e3,c6,Bxf6,Qxf6,Nf3,Nd7,Bd3,e5,dxe5,Nxe5,Nxe5,Qxe5,Qc2,h6,cxd5,Qxd5,O-O,Be6,c4,Qg5,Rfb1,Rab8,c5,b6,cxb6,axb6,Qxc6', 'Bd5,Qxd5,Qxd5', 'https://lichess.org/training/FyyQe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fz0nZ', 'Rapid', 'vivek9612', 1609, 'awbutt', 1908, 'd4,Nf6,e3,d5,Bd3,Bg4,f3,Bh5,c3,e6,Nd2,c5,Qa4+,Nc6,Bb5,Qb6,Nh3,Rc8,O-O,Bd6,f4,O-O,Bd3,c4,Bb1,Bg4,Ng5,Ne7,Qc2,Bf5,e4,dxe4,Ndxe4,Nxe4,Nxe4,Qc6,Qe2,b5,g4,Bg6,h4,Bxe4,Bxe4,Nd5,f5,exf5,Rxf5,Rce8,Rxd5', 'Qxd5,Bxd5,Rxe2', 'https://lichess.org/training/Fz0nZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fz0Qk', 'Rapid', 'corle0ne', 1627, 'chris2017', 1618, 'e4,e5,d4,exd4,Nf3,Nc6,Nxd4,Be7,Nxc6,dxc6,Bd3,Nf6,Bg5,Bg4,f3,Be6,Nc3,h6,Bxf6,Bxf6,Qd2,Qd6,O-O-O', 'Bg5,g3,Bxd2+', 'https://lichess.org/training/fz0Qk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fz1ZU', 'Blitz', 'kondiz', 1697, 'shyammohan17', 1697, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Ba6,d3,Nf6,Nc3,Be7,O-O,Rb8,Rb1,O-O,Be3,c5,a3,Nd7,Nd5,Nb6,Nxe7+,Qxe7,c4,c6,b4,cxb4,axb4,d5,Ra1,Bxc4,Bc5,Qd7,Bxf8,Rxf8,dxc4,Nxc4,exd5,cxd5,Qa4,Qf5,Qxa7,e4,Nd4,Qf6,Rfd1,e3,f3,Nd2,Ne2,Re8,Qa8,Rf8,Qxd5,Re8,b5,h6,Ra6,Qh4,Rxd2,Qf2+,Kh2,exd2,Qxd2', 'Rxe2,Qxe2,Qxe2,Ra8+,Kh7', 'https://lichess.org/training/fz1ZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fz4Ct', 'Blitz', 'GM azikom', 2593, 'NM geordie', 2434, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,Bxc3+,Qxc3,O-O,Bg5,d5,e3,c6,Nf3,h6,Bh4,Nbd7,Be2,Qb6,O-O,Ne4,Qc2,f5,c5,Qa5,a3,Ndf6,b4,Qc7,Bg3,Nxg3,hxg3,Ne4,b5,cxb5,Bxb5,Bd7,Bxd7,Qxd7,Rab1,Rac8,Qb3,b6,cxb6,Rb8,b7,Nd6,Ne5,Qxb7,Qxb7,Rxb7,Rxb7,Nxb7,Rc1,Nd6,f3,Rc8,Rb1,Nc4,Rc1,Kf8,Nxc4,dxc4,Rc3,Ke7,Kf2,Kd6,e4,fxe4,fxe4,e5,Ke3,g5,g4,a6,g3,a5,Rc1,c3,Kd3', 'exd4,Kxd4,c2,e5+,Ke6', 'https://lichess.org/training/Fz4Ct');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fz55E', 'Rapid', 'AndersonLuiz113', 1787, 'dliki', 1873, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nf3,Be7,Bb5+,Nd7,O-O,Nf6,e5,dxe5,Nxe5,O-O,f4,Nxe5,fxe5,Ng4,Qe2,Qb6,h3,Nh6,Bxh6,Qxh6,Bc4,a6,Nc3,b5,Rxf7,Rxf7,Bxf7+,Kxf7,Qf3+,Bf5,Qxa8,Qe3+,Kh1,Qxe5,Qd5+,Qxd5,Nxd5,Bd8,Rf1,Ke6,Ne3,Be4,Rf4,Ke5,Rf8,Bg5,Ng4+,Kd4,c3+,Kc4,Rf7,Bc1,Rf4,Kd3,Rf2,c4,Ne5+,Ke3,Kg1,g6,Kf1,Bd2,Re2+,Kf4,Nxg6+,hxg6,Rxd2,Kg3,Re2', 'Bd3,Ke1,Bxe2,Kxe2,Kxg2', 'https://lichess.org/training/fz55E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fz5FJ', 'Rapid', 'AngryMacrophage', 1928, 'koen_cl', 1881, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Bg5,Be7,Bxe7,Ngxe7,g3,Bg4,Bg2,Qd7,Nbd2,O-O-O,O-O,Bh3,Nb3,Bxg2,Kxg2,Ng6,Nbxd4', 'Nxd4,Qxd4,Qxd4,Nxd4,Rxd4', 'https://lichess.org/training/Fz5FJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fz7G7', 'Blitz', 'NM PoppingCheckmates', 2607, 'ma1983', 2390, 'Nf3,d6,b3,g6,Bb2,Nf6,e4,Bg7,e5,dxe5,Bxe5,O-O,Be2,c5,O-O,Nc6,Bb2,Bg4,h3,Bxf3,Bxf3,Rc8,Re1,b6,Na3,Nd4,Bxd4,Qxd4,Rxe7,Rfe8,Nb5,Qxa1,Rxe8+', 'Nxe8,Qxa1,Bxa1', 'https://lichess.org/training/fz7G7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fz8wT', 'Classical', 'HalaMadrid40', 1770, 'Vov4ik94', 1759, 'd4,Nf6,Nf3,d5,c4,e6,Nc3,c5,dxc5,Bxc5,cxd5,exd5,e3,O-O,Be2,Nc6,a3,a6,b4,Bb6,O-O,Bc7,Bb2,Ne5,Na4,Nxf3+,Bxf3,Be6,Nc5,Qd6,g3,Bc8,Qd4,Rd8,Nd3,Qe7,Nf4,Be5', 'Qxe5,Qxe5,Bxe5', 'https://lichess.org/training/Fz8wT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FZ9Mh', 'Rapid', 'tr3vias', 1737, 'petrovich142', 2021, 'd4,d5,Bf4,Nf6,e3,Bf5,c4,e6,cxd5,exd5,Nc3,c6,Be2,Bd6,Bxd6,Qxd6,f4,O-O,Nf3,Nbd7,O-O,Ne4,Ne5,f6,Nxd7,Qxd7,h3,Nxc3,bxc3,Be4,Bf3,f5,g4,Rfe8,Qe2,Re7,g5,Rae8,Rae1,Qd6,h4,Qa3,c4,dxc4,Qxc4+,Kh8,Qb3,Qa6,Be2,Qb6,Qxb6,axb6,h5,g6,h6,Kg8,Ra1,Ra8,Bc4+,Kf8,Kf2,Ra3,Rfe1,b5,Bb3,Ke8,Rec1,Kd7,Re1,Kd6,Rec1,Bd5,Bxd5,Kxd5,Re1,Re8,Re2,Rea8,Kf3,b4,Rb1,Rxa2,Rxa2,Rxa2,Rxb4,b5,Rb3,Kc4,Rb1,b4,Rc1+,Kb5,Rb1,Ka4,Rc1', 'b3,Rxc6,b2,Rb6,Ka3,d5,Ra1', 'https://lichess.org/training/FZ9Mh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fza9c', 'Blitz', 'Neo2016', 1885, 'bertrout', 1931, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,Be3,d6,h3,Na5,Bd5,c6,Bb3,Nxb3,axb3,O-O,Nc3,h6,Qd2,Re8,O-O,Bf8,Nh2,Kh7,f4,exf4,Bxf4,Nh5,Be3,d5,Qf2,Be6,e5,Qd7,d4,Rad8,Ne2,b6,Nf4,Nxf4,Qxf4,c5,c3,cxd4,cxd4,Qb5,Rxa7,Qxb3,Ng4,Qxb2,Rxf7,Bxf7,Qxf7,Re7', 'Nf6+,Kh8,Qg8#', 'https://lichess.org/training/Fza9c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzaSf', 'Blitz', 'txoooo', 1813, 'Kiprotich', 1822, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,a6,Bd3,Be7,Bg5,b5,h3,c5,Nf3,Bb7,O-O,Nbd7,Re1,O-O,a4,b4,Ne2,Ne5,Nxe5,dxe5,Qb1,Qc7,b3,a5,Ng3,Bc8,Qb2,Be6,Re3,c4,bxc4,h6,Bxf6,Bxf6,Rf3,Bxc4,Rc1,Rac8,Nh5,Bg5,Rg3,Bxc1,Rxg7+,Kh8,Qxc1,Qd6,Qe3,Bxd3,cxd3,f5,Qg3,f4', 'Rh7+,Kxh7,Qg7#', 'https://lichess.org/training/fzaSf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fZAWr', 'Rapid', 'Makileo', 1749, 'edwinalf', 1733, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d3,Bc5,c3,d6,Re1,O-O,d4,exd4,cxd4,Bb4,Bd2,Bxd2,Qxd2,Bg4,Nc3,Bxf3,gxf3,Nh7,Kh1,Qh4,Rg1,Ng5,Rg3,Kh8,Rag1,f5,exf5,Rxf5,Rg4,Qh3,R1g3,Qh5,f4', 'Nf3,Rxf3,Qxg4', 'https://lichess.org/training/fZAWr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FzBkG', 'Rapid', 'Hotstone', 1835, 'CelesMoor', 1841, 'd4,g6,c4,Bg7,Nc3,e6,Nf3,d6,e4,Nd7,Bd3,Ngf6,Bg5,O-O,e5,dxe5,dxe5,h6,exf6,hxg5,fxg7,Kxg7,O-O,Rh8,Qd2,f6,Qc2,Rh6,Rad1,Nc5,Bxg6,Qe7,Bd3,Nxd3,Qxd3,b6,Qd8,Qc5,Nb5,Bb7,Qxc7+,Qxc7,Nxc7,Rah8,Nxe6+,Kg6,Rd7,Bxf3,Rg7+,Kf5,Nd4+,Kf4,Nxf3,g4,Rd1,gxf3,gxf3,Rxh2,Kf1,Rh1+,Ke2', 'Re8+,Kd2,Rd8+', 'https://lichess.org/training/FzBkG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FzbyS', 'Rapid', 'uroek343', 1613, 'Nalba92', 1664, 'e4,c5,Bc4,e6,f4,Qh4+,g3,Qd8,Nc3,b6,Nf3,Bb7,f5,exf5,exf5,Qe7+,Be2,Bxf3,O-O,Bxe2,Nxe2,Qd6,Nc3,a6,Ne4,Qd4+,Nf2,Nc6,c3,Qd5,Ng4,O-O-O,a4,h5,Ne3,Qe4,d3,Qe5,Nc4,Qf6,Nxb6+,Kb7,Nd5,Qd6,Qf3,Ne5,Nf4+,Qc6,Qd1,h4,g4,Nh6,h3,f6,Be3,Bd6,b4,Nef7,b5,axb5,axb5,Qxb5,Rb1,Qxb1,Qxb1+,Kc6,d4,Bxf4,Bxf4,Nd6,Bxh6,gxh6,dxc5,Kxc5,Qb4+,Kc6,Qa4+,Kc5,Qd4+,Kc6,Rd1,Nb7,Qxf6+,Kc7,Rd4,d5,Qe5+,Kc8,Rxd5,Rxd5,Qxd5,Rd8,Qe6+,Kb8,Qxh6,Rd1+,Kf2,Rd2+,Ke3,Rc2,Qxh4,Rxc3+,Kf4,Rc4+,Kg5,Nd6,Qg3,Kc7,Qd3,Kd7,h4,Rc3,Qd4,Rc4,Qa7+,Rc7,Qa4+,Rc6,h5,Nf7+,Kh4,Kc7,g5,Nd6,h6,Rc4+,Kh5,Rxa4,h7,Ra8,g6,Nxf5,Kg5,Ne7', 'g7,Kd7,h8=Q', 'https://lichess.org/training/FzbyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzc9h', 'Rapid', 'Ympync', 1801, 'alexei_14', 1801, 'd4,d5,c4,Nf6,Nc3,Nc6,e3,Bf5,Nf3,e6,Qb3,Rb8,Nh4,Bg4,Be2,Bxe2,Nxe2,Na5,Qa4+,c6,cxd5,Nxd5,Nf3,b5,Qc2,Nc4,b3,Bb4+,Nd2,Nxd2,Bxd2,Bxd2+,Qxd2,O-O,Rc1,Re8,Rxc6,Rc8,Rxc8,Qxc8,O-O,f5,Rc1,Qb7,Qa5,a6,Nc3,Qc6,Ne2,Qb7,h3,h6,Ng3,f4,Ne4,Qa8,exf4,Nxf4,Qe1', 'Nd3,Qe3,Nxc1', 'https://lichess.org/training/fzc9h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fZCFl', 'Blitz', 'eslam', 1922, 'EngKnight', 1893, 'e4,d6,Nf3,e5,d4,exd4,Nxd4,Nf6,Nc3,c6,Be3,Be7,Qd2,Ng4,O-O-O,Nxe3,Qxe3,a6,f4,Nd7,h4,h6,Nf5,g6,Nxd6+,Bxd6,Rxd6,Qe7,e5,O-O,Bc4,Nb6,Bb3,Bf5,g4,Bxg4,Rg1,Bf5,Ne4,Qxh4,Nf6+,Kg7,Rd2,Nd5,Bxd5,cxd5,Nxd5,Rac8,c3,b5,Qf3,b4,Rh1,Qd8,Rdh2,bxc3,Nxc3,Rh8,Rd2,Qa5,a3,Rhd8,Rhd1,Re8,Qg3,Re6,Rd7,Rec6,R7d6,Rxc3+,bxc3,Qxa3+,Kd2,Qb2+,Ke1,Rxc3,Qf2,Rc2,Qe3,Qb4+,R6d2,a5,Qd4,Rc4,Qd6,Re4+,Kf2,Rxf4+,Ke1,Qe4+,Re2,Qf3', 'Qf6+,Kg8,Rd8+,Kh7,Qxf7#', 'https://lichess.org/training/fZCFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fZCoJ', 'Rapid', 'Rigghans', 1782, 'InPlaneShift', 1764, 'e4,g6,d4,Bg7,c3,d6,Bc4,Nf6,Nd2,O-O,Ne2,Re8,Ng3,c5,f3,cxd4,cxd4,Nc6,Nb3,a6,a4,Bd7,Be3,e6,O-O,d5,Bd3,dxe4,fxe4,Rc8,Rc1,Nb4,Nc5,Nxd3,Nxd3,Rxc1,Nxc1,Bc6,e5,Ne4,Qf3,Nxg3,Qxf7+,Kh8,hxg3,Bd5,Nd3', 'Rf8,Qxf8+,Bxf8', 'https://lichess.org/training/fZCoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzCy6', 'Blitz', 'MichaelKrombopulos', 1729, 'Nikola2oo7', 1853, 'e4,c5,Nf3,e6,d4,cxd4,c3,dxc3,Nxc3,a6,Bc4,b5,Bb3,Qb6,O-O,Bc5,Re1,Nc6,Qe2,Bb7,a4,b4,Nd5,exd5,exd5+,Nce7,Bg5,f6,Bf4,d6,Rac1,Bc8,a5,Qxa5,Rxc5,Qxc5,Rc1,Qb5,Bc4,Qd7,Nd4,Kf7,Nc6,Ng6,Bg3,Ne5,Bb3,Nh6,Qh5+,Ng6,Nd4,Qg4,Qxg4,Nxg4,Rc7+,Ne7,Bxd6,Re8,Ba4,Rd8,Rxe7+,Kg6,Bg3,Rxd5,Bc2+,Kh6,Bf4+,Kh5,Nf3,g5,Rxh7+,Nh6,Be3,Bg4,Rg7,Re8', 'Bg6#', 'https://lichess.org/training/fzCy6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FzD2v', 'Blitz', 'Boris_Beb', 2216, 'kirdyk', 2253, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,Nf3,Bg7,Be2,O-O,O-O,a6,a4,Nbd7,Bf4,Qc7,h3,Re8,Nd2,Ne5,Qc2,Bd7,Bg3,g5,Nd1,b5,Ne3,g4,hxg4,Nfxg4,Nxg4,Nxg4,Nf3,bxa4,Ng5,h6,Nf3,Rab8,Ra2,Bb5,Nh4,Bd7,Bxa6,Rb3,Bc4,Rxg3,fxg3,Bd4+,Kh1,Ne3,Qd3,Nxf1,Qxf1,Rxe4,Bd3,Rg4,Nf5,Qd8,Nxh6+,Kg7', 'Qxf7+,Kxh6,Qh7+,Kg5,Qg6#', 'https://lichess.org/training/FzD2v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FzD6s', 'Blitz', 'saufer', 1594, 'zodis1234', 1616, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,Nc6,Nf3,Bg4,Ne2,Qh5,c3,Bxf3,gxf3,Qxf3,Rg1,e6,Qb3,Rb8,O-O-O,Nd7,Bg2,Qxf2,Bxc6,Qxe2,Bxd7+,Kxd7,Bf4,Bd6,Qa4+,c6,Bxd6,Kxd6,Rxg7,Qe3+,Kb1,Qe4+,Ka1,Qf5,Qb4+,Kd7,Qc4,Rhg8,Rf1,Qh5,Rgxf7+,Kd6,Qc5+,Qxc5,dxc5+,Kxc5,Rxh7,Rg2,a4,Kb6,Re1,Rd8,Rxe6,Rdd2,Ree7,Ka5,Rxb7,Kxa4,Rxa7+,Kb3,Rhb7+,Kc4,Ra4+,Kc5,Rbb4,Kd6,Rd4+,Rxd4,Rxd4+,Kc5,Rh4,Kb5,Rh5+,Ka4,h4,Rh2,Rh6', 'Kb3,Rd6,Rh1+,Rd1,Rxd1#', 'https://lichess.org/training/FzD6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzdaX', 'Classical', 'Anton19881806', 1626, 'DavidChopin', 1617, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Bb5+,Bd7,Nc3,e5,Qd5,Nf6,Qxb7,Rb8,Bxd7+,Nxd7,Qxa7,Nc5,O-O', 'Ra8,Qxa8,Qxa8', 'https://lichess.org/training/fzdaX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FZDdO', 'Classical', 'beking', 1806, 'marcelo_357', 1728, 'd4,e6,c4,b6,Nf3,Bb7,Nc3,Nf6,Bg5,Be7,Qc2,Bxf3,gxf3,Nh5,h4,Bxg5,hxg5,Qxg5,e3,Nf6,O-O-O,Nc6,Bd3,Nb4,Qb1,Qg2,Rdf1,Qxf3,Be4,Nxe4,Qxe4,Qxe4,Nxe4,d5,cxd5,exd5,Nc3,O-O,a3,Na6,Nxd5,c5,Rh4,cxd4', 'Ne7+,Kh8,Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/FZDdO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fZDMB', 'Blitz', 'EtosuN', 1607, 'mniedoba', 1625, 'g3,e5,Bg2,d5,e4,Nf6,exd5,Nxd5,c4,Nb6,b3,c6,Ne2,Bc5,O-O,O-O,Kh1,N8d7,f4,Re8,Nbc3,Nf6,fxe5,Rxe5,d4,Rxe2,Nxe2,Bd6,c5,Bxg3,hxg3,Nbd5,Bd2,Ng4,Bxd5,Qxd5+,Kg1,Qh5,Rf2,Nxf2,Kxf2,Qh2+,Ke3,Qh6+,Kd3,Qg6+,Kc3,Bg4,Qf1,Re8,Nf4,Qe4,Re1,Qf3+,Kc2,Rxe1,Qxe1,h6,Qe8+,Kh7,Qxf7,Qd1+,Kc3,Qa1+,Kd3,Qb1+,Kc3,Qa1+,Kd3,Qb1+,Kc4,Qc2+,Bc3,Be2+,Nxe2,Qxe2+,Kb4,Qxa2,Qf5+,Kh8,Qf8+,Kh7,Kc4,Qa6+,Kb4,Qa1,Qf5+,Kh8,Qc8+,Kh7,Qxb7', 'a5+,Kc4,Qf1#', 'https://lichess.org/training/fZDMB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzDS4', 'Blitz', 'Tsar_Leonid', 1910, 'CubesAndPi', 1899, 'd4,c6,c4,d5,e3,Bf5,Nf3,e6,a3,Bd6,Qb3,Qc7,Bd2,Nf6,Nc3,h6,cxd5,exd5,Rc1,Qb6,Qxb6,axb6,Be2,Nbd7,O-O,Ne4,Nxe4,Bxe4,Rc3,Nf6,Rb3,Bc7,Bb4,Nd7,Rc1,Rc8,Nd2,c5,dxc5,bxc5,Bc3,Nf6,Nxe4,Nxe4,Bxg7,Rg8,Bxh6,Rg6,Bf4,Bxf4,exf4,b6,Bb5+,Ke7,Re1,Rcg8,f3', 'Rxg2+,Kh1,Rg1+,Rxg1,Nf2#', 'https://lichess.org/training/fzDS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzE4C', 'Blitz', 'hamad99999', 1543, 'Lguioroj', 1535, 'e4,d5,Qf3,dxe4,Qxe4,e6,Bc4,g6,d3,Ne7,Qe5,Rg8,Bg5,Bg7,Qf4,Bxb2,Bf6,Bxa1,Bxa1,Nbc6,Na3,Nf5,g4,Nfd4,c3,Nc2+,Nxc2,Bd7,Nb4,Nxb4,cxb4,Qe7,Ne2,O-O-O,O-O,Qxb4,Qxf7,Bc6,Qxe6+,Kb8,Qe5,Rge8,Qf6,Qd2,Ng3,Qh6,Qf7,Qh3,Ne4,Qxg4+,Kh1,b5,Bd5,Bxd5,Qf6,Bb7,Be5,Rxd3,Qf7,Bxe4+,f3,Bxf3+,Rxf3,Rxf3', 'Qxc7+,Ka8,Qc6#', 'https://lichess.org/training/fzE4C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fZF7U', 'Blitz', 'Gobbledok', 1780, 'BranislavBane', 1792, 'e4,e5,Bc4,Bc5,Nf3,d6,Nc3,a6,h3,Nc6,a3,Ba7,d3,h5,Bg5,f6,Be3,Nh6,d4,exd4,Nxd4,Nf7,Nf5,Bxf5,exf5,Nfe5,Bb3,Qd7,O-O,Qxf5,Qd5,O-O-O,Rfe1,g5,Ne2,Ng4,Qxf5+,Kb8,hxg4,hxg4,Qxg4,Bxe3,fxe3,Ne5,Qf5,Rh4,Kf2,Rdh8,Ng3,Ng4+,Ke2,Ne5,Kd2,Rh2,Re2,R8h6,Ne4,Ng6,Qxf6,Nf4,Qf8+,Ka7,Nxg5,Nxe2,Kxe2,Rxg2+,Kd3,Rg6,Ne6,b5,e4', 'R6g3+,Qf3,Rxf3+,Kd4,Rd2#', 'https://lichess.org/training/fZF7U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FZfav', 'Rapid', 'Alex_Gorik', 1605, 'Amatulli', 1730, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,d6,h3,c6,a3,b5,Ba2,Be6,Bxe6,fxe6,d3,O-O,Ng5,Qe7,Qe2,h6,Nf3,Nh5,O-O,Nf4,Bxf4,exf4,d4,Bb6,Rad1,Nd7,Na2,a6,Nb4,Rfc8,c3,c5,Nc2,e5,Qd2,Nf6,Rfe1,Re8,dxe5,dxe5,Nh4,Nxe4,Rxe4,Qxh4,Qd5+,Kh7,Rxe5,c4', 'Qe4+,Kh8,Rxe8+,Rxe8,Qxe8+', 'https://lichess.org/training/FZfav');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzfvC', 'Rapid', 'Beltham', 2043, 'hout14', 2092, 'e4,e5,Nf3,d6,Bc4,Bg4,d4,Nd7,c3,Ngf6,Qe2,Be7,O-O,O-O,h3,Bxf3,Qxf3,Nb6,Bb3,exd4,cxd4,d5,e5,Ne4,Nc3,Nxc3,bxc3,c6,a4,f6,a5,fxe5,Qg4,Nd7,Qe6+,Kh8,dxe5', 'Nc5,Qg4,Nxb3', 'https://lichess.org/training/fzfvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FzJaL', 'Rapid', 'OnceKnightly', 1653, 'ArguedXander', 1732, 'a4,e5,c3,d5,d4,exd4,Qxd4,Nc6,Qe3+,Be7,Nf3,Nf6,Nd4,Bd7,Nxc6,Bxc6,b3,O-O,f3,Re8,Qd4,b6,e3,Bc5,Qd3,Re7,Be2,Qe8,Kf2,Nd7,b4,Ne5,Qd2,Bxe3+,Qxe3,Ng4+,fxg4,Rxe3,Bxe3,Qe5,b5,Bb7,Bd4,Qf4+,Bf3,c6,g3,Qg5,h4,Qg6,h5,Qc2+,Be2,Re8,Re1,h6,Na3,Qxa4,c4,Qb4,Nc2,Qd6,cxd5,c5,Bf3', 'Rxe1,Rxe1,cxd4,Re8+,Kh7,Be4+,g6', 'https://lichess.org/training/FzJaL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzKPT', 'Blitz', 'MianBreinders', 1769, 'OGA5263', 1754, 'e4,e5,Nf3,Nc6,c3,d6,d4,Bg4,Be2,exd4,cxd4,Nf6,Nc3,Be7,h3,Bxf3,Bxf3,h6,Be3,g5,Rc1,Bf8,O-O,Bg7,Bh5,O-O,d5,Ne5,f4,Nc4,Bd4,Nxh5,Qxh5,Bxd4+,Kh1,Bg7,fxg5,Qxg5,Qe2,Ne3,Rf3,Nxg2,Rg1,Nf4,Qh2,Qe5,Rxf4,Kh8,Qg3,Rg8,Qh4,Rae8,Rxf7,Qd4,Rgxg7', 'Rxg7,Qxh6+,Kg8,Rxg7+,Qxg7', 'https://lichess.org/training/fzKPT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fZkyP', 'Blitz', 'HappyPlayer', 1755, 'scherenaxt', 1847, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d4,exd4,e5,d5,exf6,dxc4,fxg7,Rg8,Re1+,Be6,Ng5,Qf6,Nxe6,fxe6,Qh5+,Qg6,Qxc5,Rxg7,g3,O-O-O,Qxc4,e5,c3,h5,cxd4,Rxd4,Qc5,h4,Be3,hxg3,fxg3,Rg4,Bf2,Nd4,Qf8+,Kd7,Bxd4,Rxg3+,hxg3', 'Qxg3+,Kf1,Qg2#', 'https://lichess.org/training/fZkyP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fzli8', 'Rapid', 'MrShooko', 2036, 'Belooda', 1893, 'e4,e5,Nf3,d6,d4,exd4,Bc4,Nf6,O-O,Be7,e5,dxe5,Nxe5,Be6,Bxe6,fxe6,Re1,Qd5,Nf3,O-O,c4,Qxc4,Nxd4,Rd8,Be3,Bb4,Na3,Bxa3,bxa3,e5,Rc1,Qxa2,Qf3,exd4,Qxb7,Nbd7,Bxd4,c5,Bxc5,Nxc5,Rxc5,Rab8,Qxa7,Rb1,Qa5,Rbd1,Re5,Qa1', 'Qxd8+,Rxd8,Rxa1', 'https://lichess.org/training/Fzli8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FZMkO', 'Blitz', 'Querence', 1571, 'HalpMePlz', 1592, 'e4,e5,f4,exf4,Nf3,d5,Bb5+,c6,Ba4,dxe4,O-O,Nf6,Ne5,b5,Bb3,Be6,Bxe6,fxe6,Rxf4,Bd6,Rxf6,gxf6', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/FZMkO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FzN3H', 'Rapid', 'riki2', 1645, 'Spich', 1629, 'd4,Nf6,e3,d5,a3,Bf5,h3,Nc6,Nc3,e6,Nf3,Bd6,b4,a6,b5,Ne7,bxa6,bxa6,Bb2,c5,dxc5,Bxc5,Bd3,Bxd3,Qxd3,Qc7,Na4,Qa5+,Nc3,Qb6,O-O,Qxb2,Na4,Qb5,Nc3,Qb6,Rfb1,Qc6,Ne5,Qd6,f4,Nh5,Kh2,O-O,Ne4,dxe4,Qxe4,f6,Rd1,Qc7,Nd7,Rfd8,Qxe6+,Kh8,Nxc5,Nxf4,Rxd8+,Rxd8,Qc4,Nh5+,Kg1,Nd5,Rd1,Nxe3,Rxd8+,Qxd8,Qxa6,h6,Qe2,Qd1+,Qxd1,Nxd1,a4,Nc3,a5,Nb5,a6,Nc7,a7,Nf4,Na6,Nfd5', 'c4,Na8,cxd5', 'https://lichess.org/training/FzN3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fZnDD', 'Rapid', 'thepassedpawn', 1761, 'barukh', 1771, 'e4,e5,Nf3,Nc6,Bc4,Bc5,a3,Nf6,d3,d6,Nc3,O-O,Bg5,h6,Bh4,g5,Bg3,Ne7,Qd2,Ng6,O-O-O,Be6,Bxe6,fxe6,h4,g4,Nh2,Kh7,f3,gxf3,Nxf3,Ng4,h5,Be3,hxg6+,Kxg6,Rh4,Bxd2+,Rxd2,h5,Rd1,c6,Rdh1,Rh8,Nh2,Nxh2,R1xh2,Qg5+,Kb1,Raf8,R4h3,Rf1+,Ka2,d5,Bh4,Qd2,g4,Qf4,gxh5+,Rxh5,Bg3,Qg4,Rxh5,Qxg3,Rh6+,Kf7,Rh7+,Ke8,Rh8+,Kd7,R8h7+,Kd6,exd5,exd5,R7h6+,Kc5,b4+,Kd4', 'Ne2+,Ke3,Nxg3', 'https://lichess.org/training/fZnDD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzNy0', 'Rapid', 'MrMojangles', 2049, 'Timzgate', 2105, 'c4,c5,Nc3,Nc6,g3,Nf6,Bg2,e5,e4,Be7,Nge2,O-O,O-O,Nd4,d3,d6,a3,a6,Rb1,b5,cxb5,axb5,Nxd4,cxd4,Nxb5,Qb6,a4,Bd7,Bg5,Bxb5,axb5,Qxb5,b4,Ra3,Rb3,Rfa8,Qc2,Qa4,Rfb1,Ra1,Qc4,Qa2,Rxa1,Qxa1+,Bf1,h6,Bxf6,Bxf6,b5,Ra2,b6,Qe1,Qc8+,Kh7', 'Qf5+,g6,Qxf6,Ra1,Qxf7+', 'https://lichess.org/training/fzNy0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fzo23', 'Rapid', 'FrereKeiser', 1771, 'martyyy', 1783, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Nc3,Bb4,Bg5,Bxc3+,bxc3,O-O,O-O,h6,Bh4,g5,Bg3,d5,exd5,cxd5,Bb3,e4,Be5,Bb7,Qd4,Kg7,Rad1,Re8,Bxf6+,Qxf6,Bxd5,Bxd5,Qxf6+,Kxf6,Rxd5,Rad8,Ra5,Rd7,Re1,Re5,Ra4,Rd2,Ra6+,Kg7,Rxa7,Rxc2,f3,e3,Ra3,Rd2,c4,e2,Kf2,Rc2,Ra4,f5,Ra7+,Kg6,Ra6+,Kh5,g4+,fxg4,fxg4+,Kxg4,Rxh6,Rxc4,Rg1+,Kf5,Re1,Rf4+,Kg2,Rg4+,Kf3,Ree4,Rxe2', 'Rgf4+,Kg3,Rxe2', 'https://lichess.org/training/Fzo23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FzOZj', 'Classical', 'H-benny1985', 1701, 'Miguelhuevero', 1708, 'e4,c6,d4,e6,Nf3,Nf6,Nc3,d5,Bd3,a6,O-O,b6,Ne5,Nbd7,Nxd7,Bxd7,e5,Ng8,Qf3,Bc8,Bf4,Bb7,a4,c5,dxc5,Bxc5,Be3,Ne7,Bxc5,bxc5,Ne2,O-O,Nf4,Ng6,Nxg6,fxg6,Qg3,c4,Bxg6,hxg6,Qxg6,Rf5,Qxe6+,Rf7,b3,c3,b4,d4,Qg4,Qd7', 'e6,Rf4,Qxf4', 'https://lichess.org/training/FzOZj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzP9U', 'Rapid', 'NeelendraMohanSukul', 1669, 'feketefeher', 1696, 'e4,c5,Nf3,g6,Bc4,Bg7,O-O,a6,c3,b5,Bb3,Bb7,Re1,e6,d4,cxd4,cxd4,d6,Nc3,Nd7,Be3,Ne7,Qd2,O-O,Bh6,Nb6,Bxg7,Kxg7,d5,e5,Ne2,Rc8,Ng3,f6,h4,Qd7,h5,g5,Nxg5,fxg5,Qxg5+,Kh8,h6,Ng8,Nf5,Rf6', 'Qg7+,Qxg7,hxg7#', 'https://lichess.org/training/fzP9U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FzPFT', 'Blitz', 'CM Benek77', 2536, 'GM NguyenDucHoa', 2536, 'e4,h5,d4,h4,Nc3,h3,Nxh3,Rxh3,gxh3,c5,dxc5,Na6,Bxa6,bxa6,Be3,Bb7,Qd2,e6,Rg1,Nf6,e5,Nh5,Qe2,g6,O-O-O,Qa5,Qd3,Bc6,Ne4,Qxa2,Qa3', 'Qxa3,bxa3,Bxe4', 'https://lichess.org/training/FzPFT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzR9a', 'Blitz', 'Automatix', 1753, 'ozkanpakel', 1743, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,Nf6,Bg5,Be7,O-O,Nc6,Rfe1,O-O,a3,h6,Bh4,Rc8,Rac1,a6,Ne5,Na5,b4,Nc4,Nxc4,Rxc4,Ne2,Qd7,c3,Rfc8,a4,Qxa4,Nf4,g5,Nxe6,fxe6,Rxe6,Qd7,Rce1,Bd8,Bg3,Rxc3,Qg6+,Qg7', 'Re8+,Nxe8,Rxe8#', 'https://lichess.org/training/fzR9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzrU6', 'Blitz', 'FM Unkreativ3', 2411, 'MaryNu98', 2046, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,O-O,Bg5,c5,e3,d5,cxd5,exd5,Bd3,Qa5,O-O,Bxc3,bxc3,Ne4,Bxe4,dxe4,Ne5,f6', 'Qb3+,Kh8,Nf7+,Rxf7,Qxf7', 'https://lichess.org/training/fzrU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FZS0P', 'Rapid', 'hamma20', 1975, 'Maxo_o', 1834, 'd4,Nf6,Bf4,e6,e3,Be7,Bd3,O-O,Nf3,b6,Nbd2,Ba6,Qe2,Bxd3,Qxd3,c6,e4,Nh5,Be3,d6,O-O-O,Nd7,h4,c5,c3,d5,e5,cxd4,Bxd4,Nc5,Qe3,f5,Ng5,f4,Qf3,g6', 'Bxc5,bxc5,Nxe6,Qd7,Nxf8', 'https://lichess.org/training/FZS0P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzSfL', 'Blitz', 'agentp0909', 2298, 'Harp_Singer', 2386, 'e4,Nc6,Nc3,Nf6,d4,d5,e5,Ng8,Bb5,h5,Nf3,Bf5,Ne2,e6,c3,Ne7,Ng3,Bg6,Nh4,Qd7,Nxg6,Nxg6,Nxh5,a6,Bxc6,Qxc6,Nf4,Ne7,Be3,O-O-O,Nd3,Nf5,Qd2,f6,O-O-O,Qa4,Kb1,Be7,Qc2,Qb5,Rhe1,Kb8,Bf4,Rc8,exf6,gxf6,Rxe6,Bd6,Bxd6,Nxd6,a4,Qd7,Nc5,Qf7,Rde1,Rxh2,Qb3,Ka8,Re7,Qf8,R1e6,Rxg2,Qxb7+,Nxb7', 'Rxa6+,Kb8,Nd7#', 'https://lichess.org/training/fzSfL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fZsSy', 'Classical', 'peanut88', 1775, 'filco', 1702, 'e4,c6,g4,d5,e5,e6,Bg2,h5,d4,hxg4,Qxg4,Qh4,h3,Qxg4,hxg4,Rxh1,Bxh1,c5,f4,cxd4,Nd2,Nc6,Nb3,Nh6,Bf3,Be7,Ne2,Bh4+,Kd1,b6,Nbxd4,Nxd4,Nxd4,Bd7,Be3,Be7,Kd2,Rc8,c3,Bc5,Rh1,Bxd4,Bxd4,Ke7,Rh5,Kf8,g5,Nf5,Rh8+,Ke7,Rxc8,Bxc8,Bf2,g6,b3,Ba6,Be2,Bxe2,Kxe2,Kd7,Kd3,Kc6,c4,dxc4+,bxc4,Ng7,Kc3,Nh5,Be3,Ng3,a4,Ne4+,Kb3,Nc5+,Ka3,Nb7,Bd4,Na5,Kb4,Nb7,Be3,a6,Bd4,Kc7,c5,bxc5+,Bxc5,Nxc5', 'Kxc5,Kb7,Kd6', 'https://lichess.org/training/fZsSy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FZSUx', 'Rapid', 'Michilon', 1780, 'abdellatiff', 1744, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,g6,Bg5,Bg7,e3,Bg4,Be2,Nbd7,O-O,h6,Bh4,Qc7,h3,Be6,cxd5,Nxd5,a3,Qb6,Nxd5,cxd5,b4,O-O,Bxe7,Rfe8,Bh4,Nf6,Bxf6,Bxf6,Rc1,Rac8,Qb3,Qd6,Qa4,a6,Qb3,Bf5,b5,Be4,bxa6,bxa6,a4,Rb8,Qa2,Qe6,Qd2,Rb3,Ra1,Reb8,Rfe1,Rb2,Qd1,Bc2,Qc1,Qc6,Kf1,Bxa4,Qxc6,Bxc6,Bxa6,h5,Bd3,g5,Ra6,Rc8,Rc1,Rb3,Bf5', 'Bb5+,Ke1,Rxc1+', 'https://lichess.org/training/FZSUx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzT4f', 'Rapid', 'LeJamesBron23', 1767, 'fakenham62', 1789, 'e4,Nf6,Nc3,e5,Bc4,Nxe4,Nf3,Nxc3,dxc3,d6,Bxf7+,Kxf7,Nxe5+,Kg8', 'Qd5+,Be6,Qxe6#', 'https://lichess.org/training/fzT4f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Fzt4r', 'Classical', 'PokemonTmo09', 1741, 'maheshk3896', 1695, 'e4,e5,Nf3,d6,Bc4,a6,d3,h6,Nc3,Nf6,O-O,Be7,d4,exd4,Qxd4,O-O,e5,dxe5,Qxe5,Bd6,Qe2,Re8,Be3,Nc6,a3,Bc5,Rad1,Bd7,Rd3,Qc8,Re1,Ne5,Nxe5,Rxe5,Qd2,Bxe3,Rexe3,Rxe3,Rxe3,Bc6,Rg3,Kf8,h3,Be4,Re3,Bc6,Nd5,Nxd5,Bxd5,Bxd5,Qxd5,c6,Qc5+,Kg8,Rg3,Qe8,b4,Qe1+,Kh2,Re8,Qd6,Qxf2,Qxh6', 'Qxg3+,Kxg3,gxh6', 'https://lichess.org/training/Fzt4r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FzTEX', 'Blitz', 'A768player', 1926, 'Gabrosan', 2060, 'e4,c5,Nf3,e6,c3,d5,e5,d4,cxd4,cxd4,Qa4+,Nc6,Bb5,Bd7,Bxc6,Bxc6,Qxd4,Qxd4,Nxd4,Bxg2,Rg1,Bd5,Nc3,O-O-O,Nxd5,Rxd5,Nf3,g6,d4,Bb4+,Bd2,Bxd2+,Kxd2,Ne7,Rac1+,Kb8,Kc2,Nf5,Kb1,Nxd4,Ng5,Rd7,Rcd1,Kc8,Rg4,Nc6,Rxd7,Kxd7,Nxf7,Rf8,Nd6,Rxf2,Nxb7,Nxe5,Rd4+,Ke7,Rh4,h5,Nc5,Ng4,h3,Rh2,Nd3,Kf6,Ne1,Rh1,Kc2,Kg5,Nf3+,Kf4,hxg4,Rxh4,Nxh4,Kxg4,Nxg6,h4,Nxh4,Kxh4,Kd3,Kg4', 'Ke4,Kg5,Ke5,Kg6,Kxe6', 'https://lichess.org/training/FzTEX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fzTO9', 'Rapid', 'Kiswah46', 1873, 'bovcan', 1882, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,d3,Nc6,Be3,Nf6,Nbd2,Na5,g4,Bg6,Qe2,h6,a3,Nxc4,Nxc4,d5,Ncxe5,dxe4,Nxg6', 'exf3,Qxf3,fxg6', 'https://lichess.org/training/fzTO9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FZuym', 'Blitz', 'Luca_Olariu', 2370, 'FM vaMPir16', 2455, 'e4,g6,d4,Bg7,Nc3,d6,Be3,a6,a4,b6,f3,Nd7,Qd2,Ngf6,h4,h5,Bc4,c5,Nge2,Rb8,O-O,cxd4,Nxd4,Ne5,Bb3,Bd7,Bg5,b5,axb5,axb5,Ra7,b4,Nd5,Nxd5,Bxd5,Qb6,Be3,Qxa7,Ne6,Qa5,Nxg7+,Kf8,Bh6,Kg8,Nf5,gxf5,Qg5+,Ng6', 'Qxg6#', 'https://lichess.org/training/FZuym');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FzWnh', 'Rapid', 'evil61', 1820, 'mmazodze', 1833, 'e4,e6,Bc4,Ne7,Nf3,g6,Nc3,Bg7,d3,b6,a3,Bb7,Bd2,Nbc6,O-O,O-O,Qc1,d5,exd5,exd5,Ba2,Nf5,Bxd5,Bxc3,Bxc6,Bxd2,Qxd2,Bxc6,c3,Bxf3,gxf3,Nh4,Qf4,Qd5,Qxh4,Qxf3,Qg3,Qf6,Qxc7,Rfe8,Qg3,Re5,f4,Re2,Rf2,Rae8,Rd1,Qf5,Qg5,Qh3,Qg3', 'Re1+,Rxe1,Rxe1+,Rf1,Qxf1#', 'https://lichess.org/training/FzWnh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('FzxNT', 'Blitz', 'Erkat', 1764, 'Alsacian', 1828, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Nbd7,Bd3,c5,Nc3,cxd4,Nxd4,Bc5,Nb3,Bb6,Nxd5,O-O,O-O,h6,Bh4,g5,Bg3,Re8,a4,Nxd5,Qh5,Qf6,h4,Nc5,Nxc5,Bxc5,Kh1,Nf4,Bxf4,Qxf4,g3,Qf6,f4,Bh3,fxg5,Qc6+,Rf3,Re3', 'Qxf7+,Kh8,Qh7#', 'https://lichess.org/training/FzxNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('fZYCU', 'Classical', 'dannyappleseed', 1733, 'ElMasturbator', 1697, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,c3,Nb6,Bb3,Bd6,O-O,O-O,Ng5,Bf5,Be3,Bg6,Bxb6,axb6,Nf3,Bh5,Nbd2,Re8,Ne4,Ne7,h3,Ng6,g4,Bxg4,hxg4,Nf4,Kh2,Qd7,Rg1,h5,Rg3,hxg4,Qg1,Ne2,Nf6+', 'gxf6,Rxg4+,Kf8', 'https://lichess.org/training/fZYCU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G00om', 'Blitz', 'BiggestFishInTheSea', 2586, 'GM Obiwankanoebi', 2581, 'c4,g6,Nc3,Bg7,g3,c5,Bg2,Nc6,e3,e6,Nge2,Nge7,O-O,O-O,d4,cxd4,Nxd4,Nxd4,exd4,d5,c5,Nc6,Be3,b6,cxb6,axb6,Qd2,Ba6,Rfc1,Qf6,Na4,Nxd4,Nxb6,Ne2+,Kh1,Nxc1,Nxa8,Qxb2,Rxc1,Qxd2,Bxd2,Rxa8,a4,Bd4,Kg1,Bc4', 'Rxc4,dxc4,Bxa8', 'https://lichess.org/training/G00om');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g08TS', 'Rapid', 'fozgood', 1651, 'FRiTZZY', 1630, 'e4,Nc6,d4,d5,e5,e6,Nf3,Nge7,Bg5,h6,Bh4,g5,Bg3,Nf5,Bb5,Bd7,O-O,Nxg3,fxg3,g4,Nh4,Be7,Qxg4,h5,Qg7,Rf8,Ng6,Nxd4,Bd3,Bc5,Nxf8', 'Nf5+,Kh1,Nxg7', 'https://lichess.org/training/g08TS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G09XM', 'Rapid', 'jokerA', 1820, 'Grzybiarz85', 1820, 'd4,b6,c4,Bb7,Nc3,e6,e4,Bb4,f3,Qe7,Be3,Nc6,Bd3,d5,cxd5,exd5,Ne2,dxe4,fxe4,O-O-O,d5,Na5,O-O,Nf6,Ng3,Bxc3,bxc3,Nxd5,Qg4+,Kb8,Bg5,Nf6,Bxf6,gxf6,Bc2,Qc5+,Kh1,Qxc3,Rac1,Qe5,Rf5,Qe6,Bb3,Nxb3,axb3,Rhg8,Qf3,Rge8,Qc3,c5,Rxf6,Qd7,Rcf1,Re7,Nf5,Rxe4,Nd6,Rd4,Nxb7,Kxb7', 'Rxf7,Qxf7,Rxf7+', 'https://lichess.org/training/G09XM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g0aC5', 'Blitz', 'Castadiva', 2481, 'GM Digora', 2717, 'd4,Nf6,Nf3,d5,c4,e6,Nc3,Be7,Bg5,O-O,e3,h6,Bxf6,Bxf6,Rc1,a6,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,Be4,Bxe4,Nxe4,Nd7,Qc2,Rc8,Qc6,Nb8,Qb7,Be7,Ne5,Bb4+,Ke2,Bd6,Nc6,Qh4', 'Nxd6,cxd6,Ne7+,Qxe7,Qxe7', 'https://lichess.org/training/g0aC5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g0BcG', 'Rapid', 'Coffeebreak2020', 1824, 'Assocartaalta', 1850, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bg5,h6,Qe2+,Be6,Qb5+,Bd7,Bxf6,Bxb5,Bxd8,Bxf1,Bxc7', 'Bxg2,Rg1,Bxf3', 'https://lichess.org/training/g0BcG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g0dgL', 'Rapid', 'VitaliKedzel', 1666, 'NemPlayer', 1695, 'c3,e5,d3,d5,Qa4+,Nc6,h3,Nf6,g4,Be7,Bg2,O-O,g5,Nd7,h4,Nb6,Qc2,Bf5,Nd2,Re8,Nf1,d4,Ng3,Be6,Nf3,dxc3,bxc3,Qd6,h5,Red8,g6,h6,gxf7+,Bxf7,Ne4,Qe6,Bh3,Qd5,Rg1,Nd7,Bxh6,Bf8,Bxd7,Rxd7,Nf6+,Kh8,Nxd5,Bxd5,Be3,Re8,c4,Be6,Ng5,Bf5,O-O-O,Ba3+,Kb1,Rf8,Qa4,Be7,f4,Bxg5,fxg5,g6,hxg6,Bxg6,Rh1+,Kg7,Bc5,Rf5,e4,Rxg5,Rdg1,Rxg1+,Rxg1,Rxd3,Bf8+,Kf7,Qb5,Bxe4,Rf1+,Ke6,Kb2,Rd2+,Kc3', 'Rc2+,Kb3,Nd4+', 'https://lichess.org/training/g0dgL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G0E5K', 'Rapid', 'Bormatyxa', 1822, 'Roman29', 1887, 'e4,e6,Nf3,b6,d4,Bb7,Bd3,h6,O-O,g5,h3,Nf6,c4,Nxe4,d5,Nf6,Nc3,g4,hxg4,Nxg4,Re1,Rg8,Bf4,Bd6,Bxd6,cxd6,Nb5,Qe7,Nc7+,Kd8,Nxa8,Bxa8,Nd4,Qf6,Nf3,exd5,cxd5,Bxd5,Be2,Bc6,b3,Qg7,Qxd6,Kc8,Rac1,Ne5,Nh4,Qg5,g3', 'Qxh4,Ba6+,Nxa6', 'https://lichess.org/training/G0E5K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G0eP2', 'Classical', 'KPACOTKA', 1640, 'munif18', 1866, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,h3,h6,a3,a6,b4,Ba7,O-O,Nge7,c3,Ng6,d4,exd4,cxd4,b5,Bd5,Nge7,Qc2,Nxd5', 'Qxc6+,Bd7,Qxd5', 'https://lichess.org/training/G0eP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g0fOu', 'Rapid', 'rokio', 2146, 'DVRazor', 2249, 'e4,c5,g3,g6,Bg2,Bg7,Ne2,Nc6,c3,Nf6,d4,cxd4,cxd4,d5,e5,Ne4,Nbc3,Nxc3,bxc3,Bf5,Qb3,O-O,Qxd5,Qb6,Qb3,Qa6,a4,Bd3,Nf4,Bc4,Qc2,Bxe5,dxe5,Nxe5,h4,Rad8,Be3,Qa5,Rc1,Rd7,f3,Bd3,Qb3,Nc4,Nxd3,Rxd3,Bf2', 'Qe5+,Kf1,Nd2+,Kg1,Nxb3', 'https://lichess.org/training/g0fOu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g0G4j', 'Rapid', 'fuzzythinking', 2032, 'alal1964', 2052, 'e4,c5,Nc3,Nc6,Bb5,a6,Bxc6,bxc6,d3,Bb7,Nge2,d6,O-O,Nf6,Ng3,e6,f4,Be7,f5,O-O,Bg5,h6,Bxf6,Bxf6,Nh5,d5,Nxf6+,Qxf6,fxe6,Qxe6,exd5,cxd5,Qd2,d4,Rae1', 'dxc3,Rxe6,cxd2', 'https://lichess.org/training/g0G4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g0IfI', 'Blitz', 'Tkh3', 1548, 'calisiyorFra', 1571, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,c3,f5,Nbd2,h6,O-O,Nge7,Bb3,Bd7,Re1,f4,Nh4,g5,Nf5,Nxf5', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/g0IfI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G0LYd', 'Rapid', 'Kartal_Koyuncu', 2102, 'sigridganda', 2031, 'c4,Nf6,d4,c6,Nc3,d6,e4,Qb6,Be2,g6,f4,Bg7,Nf3,O-O,O-O,Nbd7,e5,dxe5,fxe5,Ng4,h3,Ngxe5,Be3,Nxf3+,Bxf3,Nf6,Rb1,Be6,Qe2,Rad8', 'd5,Qc7,dxe6', 'https://lichess.org/training/G0LYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g0MkF', 'Rapid', 'ozan99akturk', 1860, 'gutin82', 2006, 'e4,e5,Nf3,Nc6,Bc4,Nd4,O-O,Nxf3+,Qxf3,Nf6,d3,d6,Nd2,c6,Re1,Be7,h3,h6,Nf1,O-O,Ng3,Re8,c3,Bf8,d4,d5,dxe5,Rxe5,Bd3,dxe4,Nxe4,Nxe4,Rxe4,Bf5,Rxe5,Bxd3,Bxh6,gxh6,Rd1,Qc7,Qg3+,Bg6,h4,Bd6', 'Rxd6,Qxd6,Re8+,Rxe8,Qxd6', 'https://lichess.org/training/g0MkF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G0nAi', 'Blitz', 'IM MrStahlberg', 2506, 'VENADORECARGADO', 2329, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,Bc4,Be7,O-O,O-O,Re1,c6,a4,a5,b3,Qc7,h3,h6,Bb2,Re8,Bd3,Bf8,Ne2,g6,Ng3,Bg7,c3,Nf8,Ba3,Be6,c4,c5,dxc5,dxc5,Nf1,Rad8,Qc2,Bc8,Ne3,Ne6,Nd5,Qb8,Bc1,Nh5,g3,Nd4,Nxd4,exd4,Bf1,d3,Qb1,Nxg3', 'Bf4,Qxf4,Nxf4', 'https://lichess.org/training/G0nAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G0OiC', 'Rapid', 'tigrlitt', 1657, 'ItouKaiji', 1710, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nf3,Bg4,Be2,Nc6,d5,Ne7,h3,Bxf3,Bxf3,Nxc4,O-O,Ne5,Be2,N7g6,Bb5+,Nd7,Re1+,Be7,Bg5,O-O,Bxe7,Nxe7,Nc3,a6,Bd3,Nb6,Qh5,Ng6,f4,Qh4', 'Bxg6,Qxh5,Bxh5', 'https://lichess.org/training/G0OiC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g0P0z', 'Rapid', 'margaridata', 1745, 'ifekali', 1762, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,d5,Be7,Bg5,h6,Bxf6,Nxf6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,c6,h3,b5,dxc6,Qxc6,Re1,b4,Nd5,Nxd5,Qxd5,Qxd5,exd5,a5,a3,O-O,Re3,Rfc8,c3,bxc3,Rxc3,Bf6,Rac1,Rxc3,bxc3,Rb8,c4,Rb3,c5,dxc5,Rxc5,Rxa3,d6,e4,Nd2,e3,fxe3,Rxe3,Rxa5,Kh7,Rd5,Bd8,Nf3,f6,Kf2,Re4,Nd4', 'Bb6,Kf3,Rxd4,Rxd4,Bxd4', 'https://lichess.org/training/g0P0z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G0qbI', 'Rapid', 'alain06', 1632, 'Aroldo1989', 1666, 'e4,c5,Bc4,Nc6,d3,d6,h3,Nf6,Nf3,h6,Nc3,e6,Be3,Na5,Bb3,Nxb3,axb3,a6,O-O,Be7,Ne2,Bd7,Ng3,O-O,Qd2,h5,Bh6,gxh6,Qxh6,Nh7,Nxh5,Bf6,Nxf6+', 'Qxf6,Qxf6,Nxf6', 'https://lichess.org/training/G0qbI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g0T2j', 'Rapid', 'Gclax21', 1625, 'pov', 1659, 'e4,c5,Bc4,d5,Bxd5,Nf6,Nc3,e6,Bc4,Qd4,d3,Nc6,Nf3,Qd6,Nb5,Qd7,Bf4,e5,Be3,a6,Nc3,Ng4,h3,Nxe3,fxe3,Be7,O-O,O-O,Nd5,b5,Nb6,Qa7,Nxa8,bxc4,dxc4,Qxa8,a3,Bf6,Qe2,Na5,b4,cxb4,axb4,Nc6,b5,Nb4,c3,Qxe4,cxb4,axb5,cxb5,Qxb4,Rfb1,Qe7,Ra2,e4,Nh2,Be5,Rd2,Qg5,Kh1,f5,Nf1,f4,exf4,Bxf4,Rc2,e3,Rc4,Be6,Rxf4,Rxf4,b6,Bc4,Qxe3', 'Rxf1+,Rxf1,Qxe3', 'https://lichess.org/training/g0T2j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G0t9I', 'Rapid', 'Sergeiyakob', 1812, 'Bubbastic', 1838, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Bb4,Rc1,h6,Bxf6,Qxf6,e3,O-O,Nf3,c6,Be2,Nd7,O-O,Bxc3,Rxc3,Qe7,a3,Nf6,Ne5,Ne4,Rc1,a6,c5,Qg5,Bf3,f6,Nd3,e5,dxe5,fxe5,Nb4,Bf5,Nxd5,cxd5', 'Qxd5+,Kh8,Bxe4', 'https://lichess.org/training/G0t9I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G0uGW', 'Rapid', 'chsrao', 1814, 'Jox1331', 1800, 'e4,e5,c4,Nc6,Nc3,d6,d3,g6,Be2,Bg7,Nf3,Nf6,O-O,O-O,a4,Ne8,a5,f5,exf5,gxf5,Nd5,f4,h3,Nf6,Qb3,Nxd5,cxd5,Ne7,Bd2,Ng6,Rac1,Nh4,Qc4,Nxf3+,Bxf3,Qg5,Kh2,Rf6,Rg1,Rh6,Rh1,Rh4,Qxc7,Qh6,Kg1,Qg6,Be4,Bf5,Qxb7,Rf8,Bxf5,Qxf5,Rc7,Bf6,f3,Qxd3,Bc3,Qe3+,Kh2,Qf2,Qxa7', 'Rxh3+,Kxh3,Qg3#', 'https://lichess.org/training/G0uGW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G0Ugx', 'Rapid', 'Serkin0000', 1600, 'Samanchik', 1675, 'd4,c5,dxc5,e5,c6,bxc6,Nf3,Bc5,e3,d6,Bd3,Nf6,O-O,Bb7,Ng5,h6,Ne4,Bb6,Nxf6+,Qxf6,Nc3,c5,Ne4,Qg6,Bb5+,Nd7,Nxd6+,Ke7,Nxb7,Rad8,Bd3,f5,Nd6,e4,Bc4,Qxd6,Qxd6+,Kxd6,Rd1+,Ke7,b3,Ne5,Rxd8,Rxd8,Bb2,Nxc4,bxc4,Kf8,g3,Rd2,Rc1,Ba5,Kf1,Bb4,Ke1', 'Rxc2+,Kf1,Rxb2', 'https://lichess.org/training/G0Ugx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g0vC4', 'Rapid', 'davidoest', 1721, 'Gerhardson', 1687, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,d6,e3,O-O,Bd3,Nbd7,Nf3,c5,d5,a6,O-O,e6,e4,e5,Be3,b6,Nh4,Re8,f4,Nxe4,Nxe4,Qxh4,Nxd6,Re7,fxe5,Nxe5,Bf2,Qg5,Rb1,Bh3,Bg3,Qe3+,Kh1,Bg4,Re1,Qxd3', 'Qxd3,Nxd3,Rxe7', 'https://lichess.org/training/g0vC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g0wwN', 'Rapid', 'Gemish', 1807, 'albertogonzalez', 1787, 'e4,c5,Nf3,Nc6,d4,e6,Nc3,b6,Be3,d6,Qd2,Bb7,O-O-O,Nf6,h3,Be7,Kb1,O-O,d5,exd5,Nxd5,Nxd5,exd5,Ne5,Bf4,Bf6,Bg5', 'Nxf3,gxf3,Bxg5', 'https://lichess.org/training/g0wwN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G0xYb', 'Rapid', 'zarathustra7', 2154, 'Siegfried75', 1960, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,cxd6,Nc3,g6,Be3,Bg7,b3,O-O,Rc1,Nc6,Nf3,Bf5,Be2,Nd7,h3,Nf6,O-O,Ne4,Nxe4,Bxe4,Ng5,Bf5,Nf3,Qa5,d5,Ne5,Nd4,Qxa2,g4,Bc8,f4,Nd7,Qd3,Nc5,Qd1,Bxd4,Bxd4,Qxb3,Qd2,Qg3+,Kh1,Qxh3+,Kg1,Ne4,Qe1,Qg3+,Kh1,Qxe1,Rcxe1,Ng3+,Kg2,Nxf1,Rxf1,b6,f5,Ba6,Bd3,Rac8,Rc1,Bb7,Rh1,Rfe8,Kg3,Ba6,fxg6,fxg6,Rc1,e5,dxe6,Rxe6,Bf1,Bb7,c5,d5,c6,Rexc6,Re1,Rc2,Bd3,Rd2,Re3,Bc6,Kh4,Re8,Rf3,Rf8,Re3,Rd1,Re7,Rf4,Be5,Rh1+,Kg5,Rf3,Rg7+,Kf8,Be2,Re3,Bd4,Rxe2,Rxa7,Rb2,Rc7,Ba4,Bxb2,b5,Bd4,b4,Bc5+,Ke8,Bxb4,Bd1,Bc5,Rh2,Kf6,Rg2,g5,Rh2,Ke6,Re2+,Kxd5,Rg2,Ke6,Rxg5', 'Rc8#', 'https://lichess.org/training/G0xYb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G0YJY', 'Rapid', 'krayek', 1617, 'pba76', 1735, 'e4,e6,c3,d5,e5,c5,c4,d4,d3,Nc6,Nf3,Qc7,Qe2,Nge7,Bd2,Ng6,h3,Ncxe5,Nxe5,Nxe5,Bf4,Bd6,Bxe5,Bxe5,Qg4,O-O,Be2,Bf6,Qe4,Bd7,O-O,Bc6,Qg4,Rfe8,Bf3,Bxf3,Qxf3,b6,Nd2,e5,Ne4,Re6', 'Nxf6+,gxf6,Qxa8+', 'https://lichess.org/training/G0YJY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g122Z', 'Classical', 'ahmadNIA2015', 2046, 'AlphaZero_neo', 2113, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,e6,f3,Be7,O-O,O-O,Be3,Qc7,Rc1,Bd7,Nce2,Nc6,a3,Na5,Ba2,Nc4,Bxc4,bxc4,Bf2,d5,Nc3,e5,Bg3,Bd6,Nde2,d4,Na2,Rab8,Rb1,Nh5,Nb4,Bxb4,axb4,Nxg3,Nxg3,Rxb4,Qd2,Rfb8,Qg5,Rxb2,Nh5,g6,Rxb2,Rxb2,Nf6+,Kg7,Nh5+,Kf8,Nf6,h5', 'Qh6+,Ke7,Nd5+', 'https://lichess.org/training/g122Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g169M', 'Blitz', 'NoblesseOblige', 2195, 'mouseslept', 1641, 'd4,d5,Bf4,Bf5,e3,Nf6,c4,dxc4,Bxc4,a6,Qb3,e6,Qxb7,Nbd7,Nc3,Rb8,Qxa6,Rxb2,Nge2,Bb4,O-O,Bxc3,Nxc3,O-O,Bb3,Nb6,Qa3,Rd2,e4,Nxe4,Nxe4,Bxe4,Bxd2,Qxd4,Be3,Qf6,Rad1,Qg6,f3,Bd3,Ba4,Bxf1,Qxf8+,Kxf8', 'Bc5+,Kg8,Rd8#', 'https://lichess.org/training/g169M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g17eP', 'Blitz', 'PetrK', 2097, 'sasha20051907', 2040, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Qxd4,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,Be7,O-O-O,O-O,Rhe1,Re8,e5,dxe5,Qxe5,Qc8,Qf4,Bxf3,Qxf3,c6,Rxe7,Rxe7,Ne4,Qe6,Nxf6+,gxf6,Bxf6,Kf8,Bxe7+,Qxe7,Rd3,Re8,Re3,Qg5,Qg3,Qh6,Kd1,Rd8+,Ke1,Qf6,c3,Qf5,Qe5', 'Qb1+,Ke2,Qd1#', 'https://lichess.org/training/g17eP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g1aiY', 'Rapid', 'BeelzebubIV', 2085, 'bora94', 2107, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,Bg4,Be2,Bxe2,Ngxe2,Nc6,d5,Ne5,Bf4,Ng6,Bg3,e6,dxe6,fxe6,O-O,e5,h3,Bd6,Nb5,Nxe4,Nxd6+,cxd6', 'Qa4+,Qd7,Qxe4', 'https://lichess.org/training/g1aiY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g1Bvk', 'Rapid', 'vita64chess', 1850, 'green_toad', 1819, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Nxe5,Nxe5,d4,Ng6,e5,Ng8,Bc4,d6,Qf3,Be6,Qxb7,Bxc4,Qc6+,Ke7,Qxc4,Ke8', 'Qc6+,Qd7,Qxa8+', 'https://lichess.org/training/g1Bvk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g1DS5', 'Rapid', 'Parsifal987789', 1884, 'F4stp0k3', 2130, 'd4,g6,c4,Bg7,Nc3,e5,d5,f5,e4,d6,Bd3,Nf6,exf5,Bxf5,Bxf5,gxf5,Bg5,Na6,a3,Nc5,b4,Ncd7,Nf3,h6,Bh4,Qe7,O-O,a6,Rc1,Qf7,Qc2,e4,Nd4,Ng4,h3,Nge5,Nce2,Qh5,Bg3,O-O,f4,exf3,Nf4,Qg5,Qf2,fxg2,Qxg2,Nd3,Nfe6,Bxd4+,Nxd4,Nxc1,Ne6,Qe3+', 'Bf2+,Qg5,Nxg5', 'https://lichess.org/training/g1DS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G1DSy', 'Rapid', 'vbajnok', 1753, 'dani653t', 1716, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,g6,d3,Bg7,Qf3,Qf6,Qg3,Qb6,Bc4,Ne7,b3,O-O,h4,Qc5,Ba3,Qe5,Qxe5,Bxe5,Bxe7,Re8,Bg5,c6,f4,Bg7,b4,h6,Bxh6,Bxh6,f5,gxf5,Rxf5,d5,Rh5,Be3+,Kh1,dxc4,dxc4,Bg4,Ra5,b6,Ra3,c5,bxc5,bxc5,Ra5,Rec8,Na3,Bf2,Rf1,Bxh4,Rf4,Bd8,Rxg4+,Kf8,Ra6,Bb6,Nb5,Re8,Ra3,Re5,Rf3,Rae8,Rh4,Rxe4,Rh8+,Ke7', 'Rxe8+,Kxe8,Nd6+,Ke7,Nxe4', 'https://lichess.org/training/G1DSy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g1LeK', 'Classical', 'Janderson17', 1620, 'azazeli', 1602, 'e4,e5,Nf3,d6,d4,Nf6,dxe5,Nxe4,exd6,Bxd6,Qe2,O-O,Nc3,Nxc3,bxc3,Re8,Be3,Bc5,Qc4,Bxe3,fxe3,Rxe3+,Be2,Bg4,Qxg4,Rxc3,Bd3,Qe7+,Qe4', 'Qxe4+,Bxe4,Re3+,Kf2,Rxe4', 'https://lichess.org/training/g1LeK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g1MkB', 'Blitz', 'Korsar71', 1994, 'pincopallino68', 1842, 'e4,e5,Nc3,d6,f4,exf4,Nf3,g5,d4,Bg7,Bc4,c6,h4,h6,hxg5,hxg5,Rxh8,Bxh8,Qe2,Bg4,Bd2,Bxd4,O-O-O,Be5,Rh1,Qf6,Qd3,Nd7,Rh7,Be6,Bxe6,fxe6,Nb5,cxb5,Qxb5,Rd8,Nxe5,Qxe5,Qxb7,Ngf6,Rh8+,Ke7,Rh6,Nxe4,Rh7+,Ke8,Bb4,Nec5,Qxa7,Qe3+,Kd1,Qd4+,Bd2,Qxb2,Qa5,Qd4,c3,Qf6,c4,Rb8,Bc3,Rb1+,Ke2,Qg6,Rh8+,Ke7', 'Qd8+,Kf7,Qe8#', 'https://lichess.org/training/g1MkB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g1NPm', 'Blitz', 'BrunoB17', 1605, 'slumkid', 1563, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nb6,Nf3,g6,Bd3,Bg7,O-O,c6,Nc3,e6,e5,Nd5,Bg5,Qd7,Nxd5,cxd5,Rc1,a6,a4,Nc6,h4,h6,Bf6,Bxf6,exf6,Qd8,Rxc6,bxc6,Ne5,Bb7,Qb3,Ra7,Rc1,Qxf6,Nxc6,Ra8,Qxb7,O-O,Ne7+,Kh8,Rc7,Rfb8,Qc6,Re8,Nxd5,Qxd4,Bxa6,exd5,Rxf7', 'Re1+,Bf1,Rxf1+,Kxf1,Qd1#', 'https://lichess.org/training/g1NPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G1nTc', 'Classical', 'zico229', 1733, 'BabertsyanLevon', 1849, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,c3,a6,Bxc6,Bxc6,Bg5,Be7,Bxe7,Nxe7,Nbd2,c4,O-O,O-O,Ng5,h6,Qh5,hxg5,Nf3,g6,Qxg5,Nf5,Qg4,Ba4,Ng5,Kg7,f4,Ne3,Qg3,Nxf1,Rxf1,Rh8,f5,exf5,Rxf5,Be8,e6,f6,Nf3,g5,Nxg5,fxg5', 'Rxg5+,Qxg5,Qxg5+', 'https://lichess.org/training/G1nTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g1o8T', 'Rapid', 'alakucing', 2041, 'aqil_victory', 1939, 'e4,e6,d4,d5,exd5,exd5,Bd3,Be6,Ne2,Nf6,O-O,Bd6,c3,O-O,h3,h6,Bf4,c6,Nd2,Bxf4,Nxf4,Qd6,Nxe6,Qxe6,Re1,Qd6,Qc2,Nbd7,Re2,Rfe8,Rae1,Rxe2,Rxe2,Re8,Nf3,Re7,Bf5,c5,Bxd7,Nxd7,Kf1,cxd4,Nxd4,Re5,Rxe5,Qxe5,Qa4,Nb6,Qxa7,Nc4,Nf3,Qc7,Qa8+,Kh7,Qa4,Nxb2', 'Qc2+,Kg8,Qxb2', 'https://lichess.org/training/g1o8T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g1oPz', 'Blitz', 'kaloczajunky', 2415, 'FM TorsamuelEtoo', 2397, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,Qa5+,Bd2,Bb4,c3,Be7,c4,Qc7,O-O-O,Ngf6,Ne4,O-O,Kb1,c5,d5,exd5,cxd5,c4,Qd4,Nxe4,Qxe4,Nf6,Qd4,Rfd8,Bf4,Bd6,Ne5,b5,Rhe1,Rac8,g3,c3,bxc3,Qxc3,Qxc3,Rxc3,Nc6,Rd7,Bxd6,Rxd6,Re5', 'Rcxc6,dxc6,Rxd1+', 'https://lichess.org/training/g1oPz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g1x9K', 'Rapid', 'erivaldo', 1714, 'periodictable', 1698, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Be6,Nf3,Nc6,O-O,g6,Re1,Bg7,d3,O-O,Bg5,Qd7,Rc1,h6,Bd2,Nd4,Nxd5,Bxd5,Bc3,Nxf3+,exf3,Rfe8,Qc2,Bxa2', 'b3,Bxb3,Qxb3', 'https://lichess.org/training/g1x9K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G1zGy', 'Blitz', 'radiologic', 1652, 'AntorsAAA', 1706, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,O-O,gxf3,Qxf3,Qf6,d3,Bd6,Nc3,Nc6,Nd5,Qd4+,Be3,fxe3,Qxf7+,Kd8', 'Qf8+,Bxf8,Rxf8#', 'https://lichess.org/training/G1zGy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G1ZPs', 'Rapid', 'fyrmejlvang', 1985, 'x3blis', 1905, 'e4,e5,f4,d6,Nf3,Nd7,d4,exd4,Qxd4,Ngf6,Be3,b6,Nc3,Bb7,O-O-O,Qe7,e5,Ng4,Bg1,dxe5,Nxe5,Ngxe5,fxe5,Nxe5,Qa4+,c6,Nd5,Qd6,Bf2,O-O-O', 'Nxb6+,axb6,Rxd6', 'https://lichess.org/training/G1ZPs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G20tD', 'Rapid', 'adoliveira', 1689, 'loopcut', 1712, 'e4,e6,Nf3,d5,d4,c5,exd5,exd5,c4,Bg4,h3,Bh5,g4,Bg6,Nc3,Nf6,Bg5,Be7,Ne5,Be4,Nxe4,dxe4,Qa4+,Nfd7,Bxe7,Qxe7,Nxd7,Nxd7,dxc5,O-O,O-O-O,Nxc5,Qb4', 'Nd3+,Bxd3,Qxb4', 'https://lichess.org/training/G20tD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g20xv', 'Rapid', 'KingArthur16', 1697, 'ricdecca', 1771, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,Nxd4,cxd4,Bb4+,Nc3,d6,O-O,Bxc3,bxc3,Qg6,Kh1,Qxe4,Bxh6,Nxh6', 'Re1,Qxe1+,Qxe1+', 'https://lichess.org/training/g20xv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G22jI', 'Rapid', 'AnalyzeThat', 1815, 'sergiokumic', 1815, 'e4,c5,Nf3,d6,Bb5+,Nd7,h3,a6,Bxd7+,Bxd7,Nc3,e6,d3,Be7,O-O,Bf6,Rb1,b5,Bf4,Qb6,Re1,e5,Nd5,Qa5,Bd2,Qd8,Re3,Be6,c4,Bxd5,cxd5,Ne7,Nh2,O-O,Ng4,Bg5,Rg3,Bxd2,Qxd2,Ng6,Nh2,f5,f3,f4,Rg4,h5', 'Rxg6,Kh7,Re6', 'https://lichess.org/training/G22jI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G23PA', 'Rapid', 'keshav0111', 1720, 'tomasgalli', 1732, 'Nf3,Nc6,d4,e6,e4,Nge7,Nc3,Ng6,e5,Bb4,a3,Bxc3+,bxc3,b6,Bb5,Bb7,Bxc6,Bxc6,Bg5,Ne7,h4,h6,Bf4,Nf5,c4,Bxf3,Qxf3,Nxh4', 'Rxh4,Qxh4,Qxa8+', 'https://lichess.org/training/G23PA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G243T', 'Rapid', 'eoi', 1973, 'BebeD', 1825, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Nc6,c3,e5,Nf3,Bg4,Be2,exd4,cxd4,Nxd4,Nxd4,Bb4+,Bd2,Qxd4,Bxg4,Bxd2+,Qxd2,Qxg4,O-O,O-O,h3,Rfd8', 'Qxd8+,Rxd8,hxg4', 'https://lichess.org/training/G243T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g26wG', 'Blitz', 'JulesTheChessplayer', 1823, 'javadss', 1800, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,c6,Bc4,Bf5,d4,e6,Be3,Bd6,Qd2,Qc7,O-O-O,Nd7,h3,O-O-O,g4,Bg6,Nh4,Be7,Nxg6,hxg6,Ne4,Ndf6,Nc5,Bxc5,Qc3,Bb6,Bd3,Kb8,Qb3,Ka8,Rhe1,Nd5,c4,Nxe3,fxe3,a6,Qa4,Ne7,Re2,c5,dxc5,Qxc5,Be4,f5', 'Qxa6+,Kb8,Qxb7#', 'https://lichess.org/training/g26wG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G27G9', 'Rapid', 'geer2', 2100, 'Vonschinkhausen', 2053, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be3,Nc6,Be2,Be7,Qd2,a6,f3,Nxd4,Bxd4,Qa5,g4,b5,g5,Nd7,Bxg7,b4,Bxh8,bxc3,Bxc3,Qxg5,Qxg5,Bxg5,Rg1,Bh4+,Kd2,Ke7,Rg4,Bf6,Bxf6+,Nxf6,Rgg1,Bb7,c4,Rc8,b3,Nd7,Rg7,Nf6,Rag1,Rc5,R1g5,Rc7,Bd3,e5,h4,h5,Ke3,Rc5,b4,Rc8,Bf1,Ne8,Rg8,Rc7,Rf5,Nf6,Rh8,Bc8,Rg5,Be6,c5,dxc5,bxc5,Rxc5,Bxa6,Rc3+,Kf2,Rc2+,Kg3,Rxa2,Bc8,Bc4,Rxe5+,Kd6,Rf5,Ke7,Rc5,Bf1,Bh3,Bxh3,Kxh3,Ra1,e5,Nd7,Rc2,Nxe5,Rxh5,Ng6,Re2+,Kf6,Rb5', 'Nf4+,Kg4,Nxe2', 'https://lichess.org/training/G27G9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g2EIc', 'Rapid', 'stonewalldutch', 1782, 'David76', 1832, 'e4,Nc6,d4,d5,e5,a6,Nf3,Bf5,c4,Nb4,Na3,dxc4,Bxc4,b5,Be2,e6,O-O,Nd5,Nc2,Bxc2,Qxc2,Nb4,Qb3,Be7,a3,Nd5,a4,b4,Bd2,a5,Bb5+,Kf8,Ne1,c5,Nc2,Rc8,Rac1,c4,Bxc4,f6,Bxd5,exd5,exf6,Nxf6,Qf3,Kf7,Bg5,Rf8,Bxf6,Bxf6,Qh5+,Kg8,Ne3,Bxd4', 'Rxc8,Qxc8,Qxd5+', 'https://lichess.org/training/g2EIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G2g21', 'Blitz', 'leOnid_eFiMov', 1935, 'Agafurov_Dinar', 1785, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bg5,O-O,Rc1,c5,Nf3,Qa5,Qd2,Nc6,d5,Ne5,Nxe5,Bxe5,Be2,f6,Be3,b6,f4,Bd6,O-O,Ba6,Bxa6,Qxa6,c4,b5,cxb5,Qxb5,Rb1,Qc4,Rfe1,Qxe4,Kh1,Qf5,h3,Rad8,Rb7,Rd7,Rb5,Re8,Bxc5,Bxf4,Qe2,Rxd5,Qc4,Bg3,Rxe7,Rxe7,Bxe7,Kg7,Bc5,Rd1+,Bg1,Rxg1+,Kxg1', 'Qf2+,Kh1,Qe1+,Qf1,Qxf1#', 'https://lichess.org/training/G2g21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g2Gps', 'Classical', 'Plan_9', 1945, 'chessfun999', 1871, 'd4,d5,Nf3,Nf6,e3,e6,c4,c5,cxd5,Nxd5,Nc3,cxd4,exd4,Bb4,Bd2,O-O,Nxd5,Bxd2+,Qxd2,Qxd5,Rc1,Nc6,Bc4,Qe4+,Qe3,Qxe3+,fxe3,Bd7,O-O,Ne7,Ne5,Rad8,Nxd7,Rxd7,Bb5,Rd5,Bc4,Rg5,h4,Rg3,Kf2,Nf5', 'e4,Rg4,exf5', 'https://lichess.org/training/g2Gps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G2hrn', 'Blitz', 'IM Cerdifixer', 2465, 'Tarantolla', 2364, 'Nf3,d5,g3,c6,Bg2,Bf5,O-O,e6,d3,Nd7,Nh4,Bg4,h3,Bh5,f4,Be7,Nf3,f5,Qe1,Ngf6,Nc3,O-O,e4,dxe4,dxe4,Nc5,exf5,exf5,Ng5,Re8,Qf2,h6,Be3,b6,b4,Bf8,Bd4,hxg5,bxc5,gxf4,gxf4,Qxd4', 'Qxd4,Bxc5,Qxc5', 'https://lichess.org/training/G2hrn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g2hTt', 'Rapid', 'icegood', 2005, 'audi-razborka', 1783, 'd4,d5,c4,dxc4,e4,c5,Nf3,cxd4,Bxc4,e6,Qxd4,Qxd4,Nxd4,Nc6,Nb5,Bb4+,Bd2,Bxd2+,Nxd2,Rb8,O-O-O,Nge7,Nd6+,Kf8,Nf3,h6,e5,Ng6,Rhe1,Ke7,g3,a6,h4,Nf8,h5,Nd7,a3,Rd8,b4,Nb6,Bb3,Bd7,Nd2,Nc8,N2c4,b5,Nxc8+,Rbxc8,Nb6,Rc7,Kb2,a5,bxa5,Nxa5,f4,Nc4+,Bxc4,bxc4,Rd6,c3+,Kc2,Bb5,Rdd1,Rb8,Rd6,Rbb7,Rb1,Bc6,a4', 'Be4+,Kc1,Bxb1', 'https://lichess.org/training/g2hTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g2JBp', 'Blitz', 'Loeschsalbtraum', 2258, 'morpheusreloaded', 2278, 'Nf3,f5,g3,Nf6,Bg2,d5,c4,e6,b3,c6,Bb2,Bd6,d3,O-O,O-O,Qe7,Nbd2,Nbd7,Qc2,e5,e4,fxe4,dxe4,d4,Ne1,c5,a3,Nh5,Nd3,Ndf6,Rae1,g5,b4,b6,bxc5,bxc5,a4,Bd7,Ba3,Rf7,a5,Raf8,Nb3,Ba4,Qa2,Bxb3,Qxb3,Rb8,Qa4,Qc7,Rb1,Rff8,Bh3,g4,Bg2,Nd7,Rfc1,Nhf6,Rb5,a6,Rbb1,h5,h3,Kg7,hxg4,Nxg4,Rxb8,Rxb8,Qc2,Rf8,Bh3,Ndf6,Qe2,Qb7,Rc2,Qc6,Rb2,Nd7,Qd1,Rf6,Bxg4,hxg4,Qxg4+,Rg6,Qf5,Nf6,Rb6,Qd7,Qxd7+,Nxd7,Rb7,Kf6,Bxc5', 'Nxc5,Nxc5,Bxc5', 'https://lichess.org/training/g2JBp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G2lJP', 'Blitz', 'kasra0789', 1846, 'Panchess64', 1863, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Bd3,Bxd3,Qxd3,e6,Nf3,Bd6,O-O,Nf6,Re1,O-O,Bg5,Nbd7,Rad1,Rc8,Ne4,Be7,c4,Nxe4,Bxe7,Qxe7,Qxe4,Nf6,Qh4,h6,Ne5,Qb4,b3,b5,cxb5,Qxb5,Re3,Nd5,Rg3,Kh8,Qg4,g6,Nxg6+,fxg6,Qxg6,Rc7', 'Qxh6+,Rh7,Qxf8#', 'https://lichess.org/training/G2lJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g2Lpa', 'Blitz', 'ShriTheKing', 1663, 'i_fostiak', 1601, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Be2,d5,exd5,cxd5,Be3,Nf6,f4,Bb4+,Bd2,Bxd2+,Qxd2,e4,Nc3,O-O,O-O-O,Bb7,g4,Re8,g5,e3,Qd4,Ne4,Nxe4,Rxe4,Qc3,d4,Qb3,Rc8,Bd3,Rxf4,Rhf1,Rxf1,Rxf1,Qe7,g6,hxg6,Bxg6,e2,Bxf7+,Kh8', 'Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/g2Lpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G2MrU', 'Rapid', 'houj', 1759, 'maxim_b', 1751, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,f4,Bg7,Nf3,Bg4,e5,dxe5,fxe5,Nfd7,Be2,Bxf3,Bxf3,Nxe5,Qe2,O-O,O-O,Nxf3+,Qxf3,Bxc3,bxc3,Nd7,c4,Ne5,Qc3,Re8,Bb2,Qh4,Rf2,Qxc4,Qg3,Nd3,Qf3,Nxf2,Qf6,Kf8,Qg7+,Ke7,Re1+,Kd8,Qf6+,Kc7,Qxf7+,Kb6,Rxe8,Rxe8,Qxe8,Nd3,Qd8+,Kb5,Qd7+,Ka6,Qd6+,Ka5,Qd8+,Kb4,Qf6,Nxb2,Qxb2+,Ka4,d6,Qd5', 'Qb3+,Qxb3,axb3+', 'https://lichess.org/training/G2MrU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g2qFS', 'Blitz', 'shahruh94', 2547, 'FM Ciencia_3214', 2529, 'e4,d6,Nc3,Nf6,Bc4,c6,Bb3,d5,exd5,cxd5,d3,Nc6,Nge2,Bg4,O-O,e6,Bg5,Be7,Qd2,O-O,Rae1,h6,Bh4,Na5,h3,Nxb3,axb3,Bf5,Nd4,Bg6,Bg3,Bc5,Nf3,Nd7,d4,Bb4,Ne5,Nxe5,Bxe5,Rc8,Re3,Qd7,Rg3,Kh7,h4,f6,Bf4,Bf5,h5,Rfe8,Re1,Qf7,Qe2,Re7,Qf3,Rce8,Nb5,Bxe1,Nd6,Qf8,Nxe8,Qxe8,c3,Be4,Qe2,e5,dxe5,fxe5,Bc1,Bxf2+,Qxf2,Qxh5,Be3,Rf7,Qe1,Rf6,Bxa7,Rg6,Rxg6,Qxg6,Qf2,Qg4,Bb8,Qd1+,Kh2,Qh5+,Kg1,Qd1+,Qf1,Qh5,b4,Qg5,Qf2,h5,Kh2,h4,b5,d4,cxd4,exd4,Bf4,Qg4,Bd2,d3,b6,Kg6,Be1,Kh5,Bd2,g6,Qc5+,g5,Qf2,Bc6,Qf7+,Kh6,Qf6+,Kh5,Qh8+,Kg6,Qg8+,Kh5', 'Qh7#', 'https://lichess.org/training/g2qFS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g2rve', 'Blitz', 'invokerinky', 1720, 'tabare161', 1693, 'e4,e5,Bc4,Nf6,d3,Nc6,Nf3,Bc5,O-O,O-O,c3,Na5,Bb3,Nxb3,Qxb3,Re8,Nbd2,d5,d4,exd4,cxd4,dxe4,dxc5,exf3,Nxf3,Ne4,Qc4,b6,c6,Nd6,Qc2,Ba6,Ng5,Bxf1', 'Qxh7+,Kf8,Qh8+,Ke7,Qxg7', 'https://lichess.org/training/g2rve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G2sJS', 'Blitz', 'leftisright', 2128, 'vakontos', 2121, 'e4,d5,Nf3,dxe4,Ng5,Bf5,Qe2,c6,g4,Bg6,Nxe4,e6,Nbc3,Nd7,h4,Qc7,h5,Bxe4,Qxe4,Ngf6,Qf3,Bd6,d4,O-O-O,g5,Nd5,Ne4,Rhf8,Nxd6+,Qxd6,c4,Qb4+,Bd2,Qxb2,Rc1,Nb4,Qb3,Qxb3,axb3,Na6,b4,f6,b5,Nc7,bxc6,bxc6,Ra1,a6,Ra3,Kb7,Bg2,Nb6,O-O,Nxc4,Rb1+,Ka7,Bb4,Nxa3', 'Bc5+,Ka8,Bxc6#', 'https://lichess.org/training/G2sJS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g2spf', 'Rapid', 'LevDavidovichTrotsky', 1772, 'Cenigma941', 1740, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,d3,Nf6,Qe2,Bc5,Nxe5,Nxe5,Qxe5+,Qe7,Qc3,O-O,Re1,Bxf2+,Kxf2,Ng4+,Kg1,Qh4,Bf4', 'Qf2+,Kh1,Qxf4', 'https://lichess.org/training/g2spf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g2UVq', 'Rapid', 'pain_in_the_chess', 1670, 'gardee', 1706, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Bb4+,Nc3,Nge7,Bb5,Qb6,Ba4,Qa5,Bc2,Bxc3+,bxc3,Qxc3+,Bd2,Qa3,O-O,Nf5,g4,Nfxd4,Nxd4,Nxd4,Ba4+,b5,Bb3,a5,Kh1,a4,Bc2,Qh3,f3,Nxc2,Qxc2,Bb7,Bb4,d4,Kg1,Bxf3,Rxf3,Qxf3,Qc7,Qxg4+,Kf1,Qf4+,Ke1,Qe3+,Kf1,Qd3+,Kg1,Qe3+,Kg2,Qg5+,Kh3,Qd8', 'Qc6+,Qd7,Qxa8+', 'https://lichess.org/training/g2UVq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G2vNA', 'Rapid', 'apalom1', 1652, 'joice05', 1821, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Nb4,a3,Na6,Bc4,d6,Bb5+,Bd7,Bc4,Nc5,d3,c6,Bg5,Qb6,Qc1,Ng4,O-O,h6,Bh4,Be6,Bxe6,Nxe6,h3,g5,Bg3,Nf6,b4,g4,hxg4,Nxg4,Ne2,h5,Nh4,Be7,c4,Bxh4,Bxh4,f6,Ng3,O-O-O,Qd2,Rdg8,Nf5,Kb8,Kh1,Nd4,Rab1,Nxf5,exf5,Nh6,Bxf6,Rh7,Bh4,Nxf5,Bf6,Nh4,Bxh4,c5,g3,Qc6+,Kh2,Rg4,Kh3,Qf3,bxc5,dxc5,Qe3', 'Rxh4+,Kxh4,Qg4#', 'https://lichess.org/training/G2vNA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g2vZ3', 'Rapid', 'dochz34', 1621, 'Funplayer54', 1625, 'd4,d5,Nc3,Nf6,h3,Nc6,Nf3,h6,Bf4,g5,Bg3,Nh5,Bh2,f5,Qd3,e6,e3,Bd7,Qb5,Nxd4,Qxb7,Nxc2+,Kd1,Nxa1,Bb5,Rh7,Ne5,Bxb5,Qxb5+,Ke7', 'Nc6+,Kf7,Nxd8+', 'https://lichess.org/training/g2vZ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G2xUM', 'Rapid', 'abcd0987', 1636, 'Schiappista', 1625, 'e4,e5,Bc4,Nc6,Qf3,Nf6,d3,h6,Nc3,Nd4,Qd1,Bb4,Bd2,d6,a3,Ba5,b4,Bb6,Nd5,Nxd5,Bxd5,Qf6,Be3,c6,Bc4,Be6,c3,Nb5,Bxb6,axb6,Bxb5,cxb5,Qf3,Qg6,Ne2,O-O,Ng3,f5,exf5,Bxf5,Nxf5,Qxf5,Qxf5,Rxf5,f3,Rff8,O-O,Rfc8,Rfc1,Kf7,Kf2,Ke6,Ke3,d5,Kd2,Kf5,g3,g5,h3,h5,Re1,Re8,Kc2,g4,hxg4+,hxg4,fxg4+,Kxg4,Rh1,Kxg3,Rag1+,Kf4,Rh7,Rxa3', 'Rf7+,Ke3,Re1#', 'https://lichess.org/training/G2xUM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G2YPs', 'Rapid', 'lordmarkm', 1903, 'Sergey008', 1876, 'e4,e5,Nf3,d6,h3,h6,Bc4,Nf6,Nc3,Be7,d4,exd4,Nxd4,O-O,O-O,Nbd7,Be3,Ne5,Bb3,Kh8,Qd2,a6,Nf5,Bxf5,exf5,Qd7,Nd5,Nxd5,Qxd5,c6,Qd2,Qxf5,Rad1,d5,Bd4,Ng6', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/G2YPs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G2zvD', 'Rapid', 'dimavize', 1617, 'Qasim85', 1600, 'e4,e5,Nf3,Qf6,Nc3,Nc6,d3,Bb4,Be2,Bc5,O-O,Nd4,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/G2zvD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G31dH', 'Rapid', 'thomarr', 1839, 'novato83', 1809, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Qd2,d5,exd5,Nxd5,Nxd5,Qxd5,Nxc6,Qxd2+,Bxd2,bxc6,c3,O-O,Bc4,e6,O-O,Bb7,a4,Rfd8,Be3,a6,a5,Rac8,Ra3,Rd7,Bb6,Bf8,Raa1,Rd2,b4,c5,Rab1', 'cxb4,Bxa6,Bxa6', 'https://lichess.org/training/G31dH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g35oW', 'Blitz', 'importasnp', 2097, 'veitu71', 2108, 'Nf3,Nf6,d4,g6,c4,Bg7,Nc3,O-O,e4,d6,Be2,e5,O-O,Nc6,d5,Ne7,Ne1,Ne8,Be3,f5,f3,f4,Bf2,h5,b4,g5,a4,Bf6,c5,Rf7,b5,Rg7,a5,g4,b6,axb6,axb6,Rxa1,Qxa1,cxb6,cxd6,g3,hxg3,fxg3,Be3,Nxd6,Qb2,h4,f4,h3,fxe5,Bxe5,Nf3,Ng6,Bxb6,Qf6,Nxe5,Qxe5,Bf3,Nc4,Qb4,Ne3,Bxe3,Nh4,Bd4,Nxf3+,Rxf3,Qg5,Bxg7,Qc1+,Rf1', 'h2+,Kh1,Qxf1#', 'https://lichess.org/training/g35oW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g3aIs', 'Rapid', 'bill14052011', 1685, 'hojjatt', 1684, 'd4,d5,Nf3,Bg4,Bf4,Bxf3,gxf3,e6,e3,a6,c4,Nf6,Nc3,Nh5,Bg3,Nxg3,hxg3,Bb4,a3,Bxc3+,bxc3,Nd7,Qb3,Qc8,Bd3,dxc4,Bxc4,O-O,Qc2,h6,g4,g6,Rxh6,Qd8,O-O-O,Qg5,Rdh1,Kg7,Rh7+,Kf6,f4,Qxg4,Be2,Qf5,e4,Qxf4+,Kb1,Qxf2', 'Rf1,Qxf1+,Bxf1', 'https://lichess.org/training/g3aIs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G3aJd', 'Blitz', 'BRM1965', 2540, 'IM pipita09', 2623, 'd4,e6,c4,d6,Nf3,d5,Nc3,Nf6,Bg5,Be7,e3,O-O,Qc2,c5,cxd5,Nxd5,Nxd5,Bxg5,Nxg5,Qxg5,Nc7,cxd4,Nxa8,Nc6,O-O-O,Bd7,Kb1,Rxa8,exd4,Qa5,Bc4,Nb4,Qd2,Rc8,Rc1,Bb5,a3,Bxc4,Qxb4,Qd5,Rhd1,a5,Qc3', 'Ba2+,Ka1,Rxc3', 'https://lichess.org/training/G3aJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G3ApZ', 'Rapid', 'Cultan', 1807, 'vega2019', 1886, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c3,e6,Nb5,d5,exd5,exd5,Qe2+,Ne7,Bg5,f6,Bf4,O-O,Nc7,Nec6,Nxa8,Re8,Be3,d4,cxd4,Nxd4,Qc4+,Be6,Qc7,Qd5,Bxd4,Qxd4,Be2,Bc4,O-O,Bxe2,Re1,Qxb2,Qc3', 'f5,Qxb2,Bxb2', 'https://lichess.org/training/G3ApZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G3bbZ', 'Rapid', 'pezaa', 1892, 'endforcezwei', 1888, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bc5,Bxc6,dxc6,Nxe5,Qd4,Nd3,Nxe4,Qe2,Bf5,Nxc5,Qxc5,Nxe4,Bxe4,Qxe4+,Kd7,O-O,Rae8,Qd3+,Kc8,Qf3,Re6,c3,Rf6,Qg3,Re8,d4,Qf5,Be3,Qc2,Rab1,Rg6,Qf3,Rf6,Qd1,Qg6,Qe2,Rfe6,Qf3,Rf6,Qg3,Qc2,Qxg7,Rg6,Qxf7,Rxe3,Qf8+,Kd7,Qf7+,Re7,Qf3,Re2,d5,c5,Qh3+,Kd6,Qxh7', 'Rxg2+,Kxg2,Qxh7', 'https://lichess.org/training/G3bbZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G3H7c', 'Rapid', 'Shark_Dodson', 1606, 'didaka', 1626, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d3,d6,O-O,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,d5,exd5,Nxd5,c3,Ne6,Qb3,c6,Qxb7,Rc8,Qxa7,Be7,Bxd5,cxd5,Qa4+,Kf8,b4,Qb6,Be3,d4,Bd2,g6,c4,Kg7,c5,Bxc5,bxc5,Nxc5,Qd1,Qb2,Na3,Qxa3,Qe1,Nxd3,Qe4,Rc2,Rfd1,Rhc8,g3,Rb2,Bc1,Rxc1,Rdxc1,Nxc1,Qxe5+,f6,Qc7+,Kh6,Qxc1+,g5,h4,d3,hxg5+,fxg5,g4,d2,Qc6+,Kg7,Qd7+,Kh6,Qe6+,Kg7,Qe5+,Kh6', 'Qf6#', 'https://lichess.org/training/G3H7c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g3HjF', 'Rapid', 'irvi_7667', 1782, 'abomostafa71', 1776, 'b3,e5,Bb2,Nc6,e3,d5,Nf3,e4,Nd4,Nxd4,Bxd4,c5,Bb5+,Bd7,Bxd7+,Qxd7,Bb2,O-O-O,O-O,Nf6,f3,exf3,Qxf3,Ne4,Qxf7,Qxf7,Rxf7,d4,exd4,cxd4,d3,Ng5,Rf4,Bd6,Rxd4,Kc7,Rc4+,Kb8,Bxg7,Rhg8,Bf6,b5,Rc6,Rd7,a4,b4,Nd2,Nh3+,Kh1,Nf2+,Kg1,Ng4,Bb2,Kb7,Rc4,Ne3,Rh4', 'Rxg2+,Kh1,Rxd2', 'https://lichess.org/training/g3HjF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G3iW1', 'Rapid', 'stanly2222', 1803, 'arcibaldosouza', 1783, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be2,Be7,O-O,Nc6,Nb3,a6,Be3,b5,a3,Bb7,Qe1,Rc8,f4,b4,axb4,Nxb4,Bd3,Nxd3,cxd3,e5,fxe5,dxe5,Qg3,Qxd3,Rad1,Qc4,Qxg7', 'Rg8,Qxg8+,Nxg8', 'https://lichess.org/training/G3iW1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G3jqf', 'Blitz', 'Ricdelbia', 1668, 'Arnulf_Chleb', 1662, 'd4,Nf6,Nf3,d5,Bg5,Ne4,Bh4,c5,e3,Nc6,Bb5,Qa5+,Nc3,Nxc3,Bxc6+,bxc6,Qd2,cxd4,exd4,Ba6,Qxc3,Qxc3+,bxc3,e6,Bg3,Ba3,Rb1,Bc4,Kd2,O-O,Ne5,Bd6,Nxc6,Bxg3,hxg3,Bxa2,Ra1,Bc4', 'Ne7+,Kh8,Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/G3jqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g3kgl', 'Blitz', 'Bortyasch', 1523, 'Mini23', 1613, 'e4,e5,f4,exf4,Nf3,d6,Bc4,g5,O-O,g4,Nd4,Qh4,Rxf4,h5,Bxf7+,Kd8,Nc3,Bh6,Rf1,Nf6,Qe2,Bd7,d3,Nc6,Nxc6+,Bxc6,Bxh6,Rxh6,Rae1,Kd7,e5,g3,e6+,Ke7,h3,Qd4+,Kh1,Qh4,Ne4,Nxe4,dxe4,d5,exd5,Bxd5,Qb5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/g3kgl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g3lSM', 'Rapid', 'riiiich', 1963, 'RADA25', 1871, 'e4,g6,Bc4,Bg7,d3,e6,h3,b6,Nf3,Bb7,O-O,Na6,a3,c6,Nc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Nh5,Nh2,Nxg3,fxg3,Bd4+,Kh1,d5,exd5,cxd5,Bb3,Qd6,Qf3,Rf8,Nb5,Qc5,Nxd4,Qxd4,Ng4,h5,Nf6+,Ke7,Nxh5,Nc5,c3,Qxd3,Qxd3,Nxd3,Rab1,Rh8,g4,f5,Kg1,fxg4,hxg4,Raf8,Rxf8,Rxf8,Bc2,Nf4,Nxf4,Rxf4,Bd1,e5,Be2,a5,Rf1,Re4,Bf3,Rf4,Rd1,e4,Be2,Ke6,b4,axb4,cxb4,e3,b5,Ke5,Rd3,d4,a4,Rf2,Bf1,e2', 'Kxf2,exf1=R+,Kxf1', 'https://lichess.org/training/g3lSM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g3OtO', 'Rapid', 'brzigonzalez', 2236, 'HosseinDragon', 2342, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,e3,d5,b3,c5,cxd5,cxd4,exd4,Nxd5,Nxd5,Bxd2+,Qxd2,Qxd5,Nf3,Nc6,Be2,b6,O-O,Bb7,Rfd1,Rfd8,Qc3,Rac8,Qb2,Ne7,Rac1,Nf5,Rxc8,Rxc8,Bc4,Qe4,Bf1,Rc2,Qb1,h6,Re1,Qc6,Bd3,Nxd4,Be4,Qc7,Bxb7,Qxb7,Nxd4,Rd2,Nf3,Rd5,Rc1,Qd7,Qc2,Rc5,Qd1,Rd5,Qe1,g6,h3,a5,Qc3,Qd6,Qc7', 'Rd1+,Rxd1,Qxc7', 'https://lichess.org/training/g3OtO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g3rTX', 'Classical', 'phaustchess', 1632, 'EdinxonRojas1', 1685, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,Qa4,Bd7,Qb3,Qc7,c4,Na5,Qc3,d4,Qd3,Ne7,Be2,Nec6,a3,Nxe5,Nxe5,Qxe5,O-O,Bd6,g3,O-O,b4,cxb4,axb4,Bxb4,Ba3,Bxa3,Nxa3,Bc6,Nb5,Nb3,Qxb3,Qxe2,Nxd4,Qe4,Nxc6,Qxc6,d3,Rfd8,Rad1,Rd7,d4,Rad8,Qc3,Qe4,d5,exd5,Rfe1,Qxc4', 'Qxc4,dxc4,Rxd7', 'https://lichess.org/training/g3rTX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G3S24', 'Blitz', 'Hoenyx', 1679, 'Obtercero', 1693, 'd4,d5,Bf4,e6,Nf3,Nf6,c3,Bd6,Bg3,Ne4,Nbd2,Nxg3,hxg3,Nc6,e3,Qe7,Qc2,Bd7,b4,O-O-O,a4,e5,Nb3,exd4,cxd4,Bxb4+,Kd1,Bg4,Nc5,a5,Nd3,h5,Rb1,g5,Nxb4,Nxb4,Qb3,Rd6,Kd2,Rb6,Ne5,Nc6,Qc2,Rxb1,Qxb1,Nxe5,dxe5,Qxe5,Bd3,Rd8,Qb5,b6,Qc6,Qb2+,Ke1,d4', 'Ba6+,Kb8,Qb7#', 'https://lichess.org/training/G3S24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g3Sqf', 'Blitz', 'MatZak', 2005, 'Marro89', 2045, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,Nxd4,Nge7,Nc3,d6,Nxc6,Nxc6,O-O,Be7,Nd5,Bd7,Qh5,Ne5,Be2,O-O,Nxe7+,Qxe7,f4,Nc6,e5,dxe5,f5,f6,Rf3,Be8,Qg4,Kh7,Rh3,Rh8,Be3,Bf7,Rf1,Nd4,Bd3,c5,c3,Nc6,Rff3,Rag8,Bxh6,gxh6', 'Rxh6+,Kxh6,Rh3+,Bh5,Rxh5#', 'https://lichess.org/training/g3Sqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G3tPk', 'Rapid', 'afowlkes', 1657, 'osskjc', 1662, 'd4,d5,c4,dxc4,e3,Bf5,Bxc4,e6,Qb3,b6,d5,Nd7,dxe6,fxe6,Bxe6,Bxe6,Qxe6+,Ne7,Nc3,g6,Nf3,Bh6,Ne5,Nxe5,Qxe5,O-O,O-O,Rf5,Qe6+,Kf8,b3,Qd6,Qxd6,cxd6,Ba3,Rd8,Rad1,Nc8,e4,Rh5,Nd5,Bg7,Nf4,Re5,Rfe1,Bh6,Nd5,Bg7,f4,Rh5,g4,Rh4,g5,h6,gxh6,Bxh6,f5,gxf5,Rf1,Kg8,exf5,Rf8,Rc1,Bxc1,Rxc1,Rxf5,Rxc8+,Kg7,Rg8+,Kxg8,Ne7+,Kf7,Nxf5,Ke6,Nxd6,Rd4,Bb4,Rxb4,Nc4,Kd5,Kg2,Kd4,Kg3,Kc3,h4,Rb5,Kg4,Kc2', 'Na3+,Kb2,Nxb5', 'https://lichess.org/training/G3tPk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G3v0o', 'Rapid', 'hbekirs', 1629, 'plainpotato', 1618, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,d3,Ng4,d4,Qxd4,Qxd4,Bxd4,Nd1,O-O,Bd3,f5,O-O,fxe4,Bxe4,Be5,g3,Be6,Ne3,Nxe3,Bxe3,Bxb2,Rab1,Be5,Rxb7,Bxa2,Bxc6,a5,Rb5,Bc4,Rxe5,Bxf1,Kxf1,a4,Bxa8,Rxa8,Bd4,a3,Ba1,a2,Re7,Rb8,Rxg7+,Kf8,Rxc7,Rb1+,Kg2,Rxa1,Ra7,Ke8,c4,Kd8,c5,Kc8,c6,Kb8,Rb7+,Kc8,Ra7,Kb8,Rb7+,Ka8,Rb2', 'Rg1+,Kxg1,a1=Q+', 'https://lichess.org/training/G3v0o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G3xOv', 'Rapid', 'm_dg_itas', 1927, 'tottivanpersie', 1886, 'e4,e6,d4,d5,exd5,exd5,c3,c5,Nf3,cxd4,cxd4,Nf6,Bd3,Bb4+,Nc3,O-O,O-O,Bg4,a3,Bd6,h3,Bh5,Bg5,h6,Bh4,Be7,Nxd5,Qxd5,Re1,Re8,Bxf6,gxf6,g4,Bg6,Nh4,Bxd3,Qxd3,Qg5,Nf5,Nc6,d5,Ne5,Qe4,Ng6,Rf1,Bc5,Qc4,b6,b4,Bf8,f4,Nxf4,Rxf4,Rac8,Qd4,b5,Raf1,Rc4,Qd2,Re5,h4,Qg6,Rxc4,bxc4,Rf4,h5,Qg2,Re1+,Kh2,c3,Rc4,hxg4', 'Rxg4,Kh7,Rxg6', 'https://lichess.org/training/G3xOv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g3zNy', 'Blitz', 'Turmopfer', 2059, 'IM DrBergerBerger', 2481, 'f4,d5,Nf3,c6,e3,Bg4,Be2,Bxf3,Bxf3,Nd7,O-O,e5,fxe5,Nxe5,b3,Nf6,Bb2,Bd6,d3,Qc7,h3,h5,Nd2,O-O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Kb8,Rb1,g6,Qe1,f5,Bf3,Bc5+,Kh1,Rhe8,Qc3,Bd4,Qd2,Bxb2,Rxb2,h4,Rbb1,Nxf3,Rxf3,Qe7,Rbf1,Rd6,Qf4,Kc8,Kh2,Re6,R3f2,Re5,Qh6,Qd6,Qxh4,Re3+,Qf4,Qc5,a4,a5,d4,Qd5,Rf3,Re2,R1f2,R8e4,Qh6,Qxd4,Qf8+,Kc7,Rxe2,Qe5+,Kg1,Rxe2,Qf7+,Kb6,Qxg6,Re1+,Kf2,f4,Qd3,Rc1,Qd2', 'Qc5+,Ke2,Rxc2', 'https://lichess.org/training/g3zNy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G41H1', 'Blitz', 'celochiedeleuropa', 2035, 'proud47', 2033, 'd4,f5,e4,fxe4,Nc3,Nf6,Bg5,g6,Qd2,d5,f3,Bg7,O-O-O,O-O,h4,exf3,Nxf3,Bf5,h5,Nxh5,Rxh5,gxh5,Bh6,Qd6,Bxg7,Kxg7,Qg5+,Kh8,Nb5,Qc6,c3,Nd7,Qxh5,a6,Na3,Qa4,Bd3,Bxd3,Rxd3,Nf6,Qe5,Qd7,Ng5,Qg4,Rh3,Qxg2', 'Rxh7+,Kg8,Qe6+,Rf7,Qxf7#', 'https://lichess.org/training/G41H1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G43H2', 'Blitz', 'NM ZugZwangTR', 2378, 'Baxchiparizh', 2427, 'd4,d5,Nf3,e6,c4,Nf6,g3,Be7,Bg2,O-O,O-O,b6,cxd5,exd5,Nc3,c5,Bf4,c4,b3,Bb7,Ne5,cxb3,Qxb3,Na6,Rac1,Rc8,Rfd1,h6,Nb5,Ra8,Nc6,Bxc6,Rxc6,Qd7,Rdc1,Rfe8,Nc7,Nxc7,Rxc7,Qe6,Qa4,Qxe2,Bf1,Qf3,R1c3,Qe4,Re3,Qb1,Rexe7,Rxe7,Rxe7,Ne4,Qb3,Qe1,Be3,Nxf2,Qxd5,Rf8,Qf5,Nd1,Bg5,Qc3,Bf6,gxf6,Qg4+,Kh8,Qxd1,Rd8,d5', 'Qc5+,Kg2,Qxe7', 'https://lichess.org/training/G43H2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g45ae', 'Blitz', 'Zombieblitz', 2408, 'papuchi43', 2442, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nd7,Bc4,Ngf6,Nxf6+,Nxf6,c3,g6,d4,Bg7,O-O,O-O,h3,Nd5,Re1,Bf5,Bg5,Re8,Qe2,h6,Bh4,g5,Bg3,e6,h4,g4,Ne5,h5,Rad1,a5,a4,Bf6,Qd2,Bxh4,Bxh4,Qxh4,Qh6,f6,Ng6,Qg5', 'Qh8+,Kf7,Qh7#', 'https://lichess.org/training/g45ae');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g47oJ', 'Rapid', 'Rafaaeel', 1784, 'lesdeuxtours', 1825, 'd4,b6,c4,Bb7,Nc3,d6,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,Re1,Nbd7,Qc2,e5,d5,Re8,e4,c6,Bg5,cxd5,cxd5,Rc8,Qa4,a6,Nd2,b5,Qb4,h6,Be3,Nc5,Bf1,Ng4,Bxc5,dxc5,Qb3,c4,Qd1,h5,Bh3,f5,f3', 'Qb6+,Kh1,Nf2+', 'https://lichess.org/training/g47oJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G49mX', 'Classical', 'xustogaldo', 1771, 'yusufdemir1986', 1607, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,c4,Nf6,Nc3,e5,Nf3,Be7,Be2,O-O,O-O,Be6,Ng5,Rc8,Nxe6,fxe6,Bg5,h6,Bxf6,Bxf6,Bg4,Nd4,b3,Bg5,Ne2,Nxe2+,Qxe2,Qe8,Rad1,Rc6,Rd3,Bd8,Rfd1,Qe7,Rh3,Bb6,Rf3,Bc5,Rxf8+,Kxf8,Rd3,a6,Rf3+,Kg8,Bh5,Qg5,Bf7+,Kh8,Bxe6,Qc1+,Qf1,Qb2,Rf8+,Kh7,Bg8+,Kh8,Bd5+,Kh7,Bxc6,bxc6,Qd1,Qxa2,h3,d5,exd5,Bxf8,dxc6,Qa5,Qd3+,Kh8,Qf5,Bd6,Qc8+,Kh7,Qf5+,Kh8,Qc8+,Kh7,Qf5+,Kg8', 'Qe6+,Kh7,Qxd6', 'https://lichess.org/training/G49mX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G4bhl', 'Rapid', 'danizito', 1754, 'Rimlassoued', 1743, 'd4,e6,c4,d5,cxd5,Qxd5,Nc3,Bb4,Nf3,Nf6,Bd2,Bxc3,bxc3,Ne4,c4,Qxc4,Rc1,Qxa2,Rxc7,Nxd2', 'Rxc8+,Ke7,Rxh8', 'https://lichess.org/training/G4bhl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g4BQy', 'Rapid', 'RustyJames', 1716, 'Jeeva1omd', 1732, 'd4,d5,e3,c5,c3,Nc6,Nf3,Bg4,Be2,Bxf3,Bxf3,e6,Nd2,Bd6,O-O,Nf6,a4,a5,b3,O-O,Re1,Qc7,h3,h6,Bb2,Ne7,e4,dxe4,Nxe4,Nxe4,Rxe4,cxd4,Rxd4,Be5,Rd7,Rfd8,Rxc7,Rxd1+,Rxd1,Bxc7,Bxb7,Rb8,Bf3,Rxb3,Rd7,Rxb2,Rxc7,Ng6,Ra7,Rc2,Rxa5,Rxc3,Ra8+,Kh7,Ra7,Ne5,Be2,Ra3,Bb5,Kg6,Rc7,Kf6,Be8,g6', 'f4,g5,fxe5+', 'https://lichess.org/training/g4BQy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G4deG', 'Rapid', 'erkpa', 1940, 'daskas10', 1951, 'g3,d5,Bg2,Nf6,d3,Bf5,e3,e6,Ne2,Bd6,O-O,O-O,Nd2,Nc6,b3,h6,Bb2,Re8,Nf3,e5,Rc1,Qd7,Nh4,Bh3,Re1,Bxg2,Kxg2,d4,exd4,e4,dxe4,Nxe4,d5,Ne5,Nd4,Ng5,Ndf3,Qh3+,Kg1,Ng4,Rxe8+,Rxe8,Qd4,f6,Qd1,Ne4,Qf1,Qxf1+,Kxf1,Nexf2,Bd4,Ne4,Nf5,Ng5,Nxg5,hxg5,Nxd6,cxd6,Bxa7,Nxh2+,Kf2,Ng4+,Kf3,Ne5+,Kf2,Rc8,Bd4', 'Nd3+,cxd3,Rxc1', 'https://lichess.org/training/G4deG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g4eEy', 'Rapid', 'Agaba_Ed', 1773, 'Musicman523', 1777, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,e3,c5,Nf3,Nc6,Bd3,cxd4,exd4,h6,O-O,d6,a3,Ba5,b4,Bc7,b5,Ne7,a4,Ng6,Ne4,e5,a5,Bg4,h3,Bxf3,Qxf3,exd4,Nxf6+,Qxf6,Qxf6,gxf6,Bxh6,Rfe8,Bxg6,fxg6,h4,Re5,Rfd1,g5,hxg5,fxg5,f4,gxf4,Bxf4,Re4,g3,Kf7,Rf1,Ke6,Rae1,Rxe1,Rxe1+,Kd7,Rd1,Bxa5,Kg2,Bb6,Kf3,a5,Bc1,a4,g4,Ke6,Re1+,Kf6,g5+,Kg6,Re6+,Kf5', 'Rf6+,Ke5,Bf4#', 'https://lichess.org/training/g4eEy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g4FeU', 'Blitz', 'GErdenebayar', 2255, 'ChessRadar', 2216, 'e4,c5,Nf3,e6,d3,d5,Nbd2,Nf6,g3,b5,Bg2,Bb7,O-O,dxe4,dxe4,Nxe4,Re1,Nxd2,Bxd2,Nd7,Ng5,Bxg2,Kxg2,Be7,Nxe6,fxe6,Rxe6,O-O,Qe2,Bf6,Qxb5,Bd4,Be3,Ne5,c3,Qd5+,Kg1,Qxe6,cxd4,cxd4,Bf4,Rxf4,gxf4,Qg4+,Kf1,Nf3,Qd5+,Kf8,Qxa8+,Kf7,Qxa7+,Kg6,Qb6+,Kh5,Qc5+,Kh4,Qe7+,Kh3,Rd1,Nxh2+,Ke1,Nf3+,Ke2,Ne5+,Kd2,Qxf4+,Kc2,Qe4+,Kc1,Nd3+,Rxd3+,Qxd3,Qd7+,Kh2,Qc7+,Kh1,Qc2,Qf1+,Qd1,Kg2,a4,Qc4+,Qc2,Qb4,Qe4+,Kxf2,Qf5+,Ke2,Qg4+,Kd3,Qf3+,Kc4,Qe2+,Kc5,Qe7+,Kc4,Qc7+,Kb3,Qc2+,Ka2,Qb1+,Kb3', 'Qc2+,Ka2,b3+,Ka1,Qb1#', 'https://lichess.org/training/g4FeU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g4gAX', 'Classical', 'Vitalii1975', 1890, 'osielalonso', 2091, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,Nc6,Bc4,Be6,Bxe6,fxe6,d4,exd4,Nxd4,Nxd4,Qxd4,Be7,Bg5,O-O,O-O-O,a5,e5,dxe5,Qxe5,Qc8,Rhe1,Ra6,g4,Nd7,Qe3,Qd8,Bf4,Rxf4,Kb1,Rf8,Qe4,Qe8,Qxb7,Rb6,Qe4,Bb4,Re3,Nc5,Qe5,Bxc3,Rxc3,Na4,Rxc7,Rxb2+,Ka1,Rf6,g5,Rg6,f4,Rb8,h4,h5,gxh6,gxh6,f5,exf5,Qxf5,Qe6,Qxa5,Qf6+,c3,Nb6,Qa7,Ra8,Qb7,Qe6', 'Qxa8+,Nxa8,Rd8+,Qe8,Rxe8#', 'https://lichess.org/training/g4gAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g4gJc', 'Classical', 'Evgenii74', 1612, 'Rep1icat0r', 1670, 'e4,e5,Bc4,Nf6,Qf3,d6,a3,g6,Ne2,Bg7,Ng3,O-O,h3,c6,O-O,Be6,Qd3,Bxc4,Qxc4,d5,exd5,cxd5,Qb5,Qc7,Nc3,a6,Qb3,d4,Nce4,Nxe4,Nxe4,Qc6,d3,Nd7,Bd2,Nc5,Nxc5,Qxc5,Rac1,b5,Bb4,Qc6,Bxf8,Bxf8,Rfe1,Bh6,Ra1,Re8,Re4,Kg7,Rae1,Bd2,R1e2,f5,Rxe5,Rxe5,Rxe5,Bf4,Re7+,Kf6,Rxh7,Qe8,Qb4,Qe2,Qxd4+,Be5,Qd8+,Ke6,Re7+,Kf6,Qf8+,Kg5,h4+,Kg4,g3,Kh3,Rxe5', 'Qd1+,Re1,Qxe1#', 'https://lichess.org/training/g4gJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G4IE9', 'Rapid', 'mahdihashemi', 2023, 'karmel1', 1891, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Na3,Ng6,Nc2,b6,Bb5,Bb7,a3,Be7,Be3,c4,Nb4,Bxb4,axb4,a6,Ba4,b5,Bc2,O-O,h4,a5,bxa5,Rxa5,h5,Nge7,g4,Rxa1,Qxa1,Qa8,Qb1,b4,Bxh7+,Kh8,g5,bxc3,bxc3,Qa3,Bd2,Qb3,Bc2,Qxb1+,Bxb1,Ra8,O-O,Na5,Rd1,Nb3,Be1,Ra1,Kf1,Ba6,Ke2,Nc6,g6,fxg6,hxg6,Kg8,Ng5,Nd8,f3,Kf8,Bh4,Ke8,f4,Kd7,Rf1,Nxd4+,cxd4', 'c3+,Ke3,Bxf1', 'https://lichess.org/training/G4IE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g4ikn', 'Rapid', 'Kenyon007', 2050, 'Mannie_Yuson', 2031, 'e4,c5,Nf3,e6,d4,cxd4,Qxd4,a6,c4,Qc7,Be3,Nf6,Nc3,Bb4,e5,Nc6,Qf4,Bxc3+,bxc3,Qa5,Bd2,Ng8,Bd3,f6,O-O,Nxe5,Nxe5,Qxe5,Qh4,f5,Rfe1,Qf6,Qxf6,gxf6,Bxf5,Kf7,Be4,Ne7,Rab1,Nc6,Re3,f5,Bxc6,bxc6,c5,Rg8,c4,Rg4,Rc1,a5,Rcc3,Ba6,Rh3,Rh8,f4,h5,Rhd3,Ke7,Rd6,h4,Kf2,Rhg8,g3,hxg3+,hxg3,R8g7,Rcd3,Ke8,R6d4,Rh7,Bxa5,Rh2+,Kf3,Rxa2,Bc7,Rg7,Be5,Rh7,Rb3,Rc2,Rb8+,Kf7', 'Rxd7+,Kg6,Rg8+', 'https://lichess.org/training/g4ikn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G4KAc', 'Rapid', 'Frirrempa', 1611, 'bfcchess', 1608, 'e4,e5,Nf3,Nc6,a3,d5,Bb5,a6,Bxc6+,bxc6,Nxe5,dxe4,O-O,f5,Re1,Nf6,d4,Bd6,Nxc6,Qd7,d5,O-O,Bg5,Bb7,Bxf6,Rxf6,Nb4,Be5,Nd3,Qxd5,Nxe5,Qxe5,Re3,Qf4,Nd2,Rd6,Qe2,Qe5,Qc4+,Re6,Nf3,Qd6,Ng5,Rd8,h3,f4,Rxe4,Bxe4,Nxe6', 'Bd5,Qxc7,Bxe6,Qxd6,Rxd6', 'https://lichess.org/training/G4KAc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g4kNK', 'Blitz', 'CrimsonFury19', 1946, 'Migmarpal', 1893, 'e4,c5,d4,cxd4,c3,d3,Bxd3,Nc6,Nf3,d6,Bc4,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nf6,Qe6,Ne5,f4,h6,fxe5,hxg5,exf6,gxf6,O-O,Qb6+,Kh1,Rd8,Rxf6,Bg7,Qf7+,Kd7,Qxg7,Qb5,Rf5,Qd3,Qd4,Qg3,Qg1', 'Rxh2+,Qxh2,Qe1+,Rf1,Qxf1+,Qg1,Rh8#', 'https://lichess.org/training/g4kNK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g4l7L', 'Rapid', 'foust2015', 1819, 'Zoran972', 1785, 'd4,d6,c4,e6,Nf3,Nd7,Nc3,h6,e3,a6,Bd3,c5,O-O,Be7,d5,e5,e4,Ngf6,h3,O-O,Bd2,Nb6,a3,Nbd7,Bc2,Re8,Ba4,Rf8,Nh4,Nb6,Bc2,Nxc4,Bc1,Nxe4,Bxe4,Bxh4,Qh5,Bg5,Bd3,Nb6,a4,Bxc1,Raxc1,Qg5,Qxg5,hxg5,a5,Nd7,Ne4,Nf6,Nxd6,Nxd5,Rxc5,Nb4,Bc4,Nc6,Rd1,Be6,Bxe6,fxe6,Nxb7,Nb4,Rxe5,Kf7,Rd7+,Kf6,Re4,Nd5,g4,Ra7,Rd6,Nf4,Nc5,Re8,Kh2,Rc7,Nxa6,Rc2,Kg3,Rxb2,Nc5,Rb5,Nd7+,Ke7,Rb6,Rxa5,Ne5,Ra3+,f3,Ra2,h4', 'Rg2#', 'https://lichess.org/training/g4l7L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G4mnT', 'Rapid', 'LeonardVictor', 1921, 'Pinheirin', 1969, 'd4,Nf6,Bf4,d5,Nf3,c5,e3,Nc6,h3,Bf5,Nbd2,Nb4,Ne5,Nxc2+,Ke2,Nxa1,Qxa1,c4,Qd1,Qa5,g4,Bd3+,Nxd3,cxd3+,Ke1,e6,Bxd3,Bb4,f3,a6,Rh2,Qxa2,g5,Nh5,Be5,Qxb2,f4,Ng3,Bxg7,Rg8,Bf6,Rc8,Qa4+,b5,Qxa6,Rc1+,Kf2,Qxd2+,Kxg3,Qxe3+,Kh4,Qxf4+,Kh5,Qf3+,Kh6,Bf8+,Kxh7,Qxd3+,Kxg8,Qg6+,Kh8,Qh5+,Kg8,Qg6+,Kh8,Bd6,Qxb5+,Kf8,Qd7', 'Qg8#', 'https://lichess.org/training/G4mnT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G4ncN', 'Rapid', 'Avet8030', 1953, 'inemuri', 1846, 'Nc3,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Bf4,Bg7,Qd2,Nf6,Be5,O-O,Bxf6,Bxf6,O-O-O,Qa5,Nb1,Qxa2,c3,a5,h4,a4,e4,h5,f4,Qa1,e5,Bg7,Bc4,a3,bxa3,Rxa3,Qb2,Ba6', 'Qxa3,Qxa3+,Nxa3', 'https://lichess.org/training/G4ncN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G4R7b', 'Rapid', 'natanzian', 1971, 'xarcul', 1978, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Bd7,b4,cxd4,cxd4,Nge7,Nc3,Nf5,Na4,Qc7,Bb2,Be7,Nc5,Bxc5,dxc5,b6,Rc1,bxc5,Rxc5,Qb7,Bd3,Nfe7,O-O,Ng6,Qd2,Rc8,Rfc1,Nce7,g3,O-O,Qc2,Rxc5,Qxc5,Rc8,Qd6,Rxc1+,Bxc1,Qc6,Qb8+,Nc8,Bb2,Qb6,Qxb6,Nxb6,Nd2,Ne7,Bd4,Nc6,Bxb6,axb6,f4,Nd4,Kf2,f6,Nf3,Nxf3,Kxf3,fxe5,fxe5,g5,Bf1,h5,h4,g4+,Kf4,Be8,Kg5,Kf8,Bd3,Ke7,Bg6', 'Bxg6,Kxg6,d4', 'https://lichess.org/training/G4R7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G4TnS', 'Blitz', 'Manape82', 2095, 'Chessmasterkasparov1', 2035, 'e4,e6,e5,d6,exd6,cxd6,d4,Nc6,Nf3,Bd7,h3,Qc7,c4,Be7,Nc3,a6,d5,Nb8,Bd3,Nf6,O-O,O-O,Bg5,h6,Be3,exd5,cxd5,Bc8,Qd2,Nbd7,Bxh6,gxh6,Qxh6,Rd8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/G4TnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g4TOr', 'Blitz', 'Subutay_2011', 1682, 'Lebay', 1688, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Be2,Bc5,Nxc6,bxc6,O-O,Bb7,Be3,Bxe3,fxe3,Nf6,Bh5,O-O,e5,Nd5,Qf3,Qe7,Nd2,c5,Ne4,Nb4,Qf4,Nxc2,Nd6,Ba6,Bxf7+,Rxf7,Nxf7,Bxf1,Rxf1,Nb4,a3,Nd5,Qe4,Rf8,Nd6,Rxf1+,Kxf1,Qg5,Qf3,Nxe3+,Ke2,Nf5', 'Qa8+,Qd8,Qxd8#', 'https://lichess.org/training/g4TOr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g4U1C', 'Classical', 'NaturalBornTraveller', 1776, 'Carlosjulio', 1812, 'e4,e5,Nf3,d6,Nc3,Be7,d4,exd4,Nxd4,Nf6,Bd3,c5,Nf3,Bg4,h3,Bh5,Bg5,O-O,g4,Bg6,Nh4,a6,Qf3,Nc6,Ne2,Ne5,Qe3,b5,f4,Nxd3+,cxd3,h6,Bxf6,Bxf6,Nxg6,fxg6,O-O-O,Bh4,f5,gxf5,gxf5,Qe8,Rdf1,d5,Rhg1,Bg5,Nf4,Qe5,Kb1,Bxf4,Rxf4,d4,Qg3,Ra7,f6,Rxf6', 'Rxf6,Qxg3,Rxg3', 'https://lichess.org/training/g4U1C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g4U75', 'Blitz', 'lazorkodmitro', 2000, 'farolillero', 2183, 'd4,d5,e4,dxe4,f3,exf3,Nxf3,Nf6,Bc4,Bg4,Ne5,Be6,Bxe6,fxe6,O-O,Nbd7,Qe1,Nxe5,dxe5,Qd4+,Kh1,Ng4,Nc3,Qxe5,Qh4,Nf6,Bf4,Qc5,Qh3,e5,Be3,Qc6,Rad1,e6,Bg5,Be7,Bxf6,Bxf6,Qh5+,g6,Qh6,Ke7,Rxf6,Kxf6,Rf1+,Ke7,Qg7+,Kd6,Rd1+,Kc5,Qxe5+,Kb6,Qd4+,Ka6,b4,b5,a4,Kb7,axb5,Qb6,Qe4+,Kb8,Na4,Qxb5,Nc5,a5,Qe5,Qxb4,Nd7+,Kb7,Nc5+,Kc6,Ne4,Rhd8,Qxe6+,Kb7,Rxd8,Rxd8,h3,a4,c3,Qb1+,Kh2,a3,Nc5+,Kb8,Na6+,Ka7,Nb4,a2', 'Qa6+,Kb8,Nc6#', 'https://lichess.org/training/g4U75');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G4wfR', 'Blitz', 'Jugo1313', 1774, 'DIVVA', 1740, 'f4,e5,Nf3,exf4,d4,g5,h4,g4,Ne5,d6,Nxf7,Kxf7,Bxf4,Be7,g3,Nf6,Nc3,Re8,e3,Bf5,Bd3,Bxd3,cxd3,h5,Qd2,c6,O-O-O,Nd5,Nxd5,cxd5,Rdf1,Kg8,Kb1,Nd7,Qb4,b6,Bxd6,Bxd6,Qxd6,Rxe3,Qxd5+,Kh8,Qxh5+,Kg8,Qxg4+,Kh8,Rf5,Re7,h5,Rg7,Qf3,Rc8,Rf1,Qc7,h6', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/G4wfR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G4x7k', 'Rapid', 'Lani-Akea', 1638, 'silasfisher', 1682, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Bd3,c6,cxd5,cxd5,Nf3,Nc6,O-O,a6,a4,Ng4,Bf4,f5,Bc2,Rf6,Ra3,Rg6,Rb3,Na5,Ne5,Nxe5,Bxe5,Nxb3,Bxb3,Bd6,f4,Bxe5,fxe5,Qg5,Qf3,Bd7,e4,Rf8,g3,Qg4,exd5,Qxd4+,Kg2,Qxe5,dxe6,Be8,e7+,Rf7,Bxf7+,Kxf7,Qxb7', 'Bc6+,Qxc6,Rxc6', 'https://lichess.org/training/G4x7k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G4YVx', 'Classical', 'Goldbeck', 1673, 'mat-eminsoy', 1671, 'e4,e5,Nf3,d6,Bc4,Bg4,d3,Nc6,Be3,Nf6,Nbd2,Be7,c3,a6,d4,exd4,cxd4,Na5,Qa4+,c6,Qc2,Nxc4,Qxc4,O-O,e5,d5,Qa4,Nd7,h3,Bf5,g4,Be4,Nxe4,dxe4,Nd2,Nb6,Qc2,Nd5,Nxe4,Bh4,Qe2,Qa5+,Bd2,Qa4,O-O,Qxd4,g5,Rfe8,Qg4,Rxe5', 'Nf6+,Nxf6,Qxd4', 'https://lichess.org/training/G4YVx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g54KP', 'Rapid', 'Vamsi4797', 1739, 'cagdascimen', 1646, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,d6,Nf3,Nf6,Nc3,O-O,Ng5,Ne5,Bb3,h6,Nf3,Bg4,Nd5,Nxf3+,gxf3,Bh5,Rg1,Re8,Bxh6,Nxd5,Rxg7+,Kh8,Qxd5,Bf6,Rg1,Bxf3,Bc1', 'Rxe4+,Qxe4,Bxe4', 'https://lichess.org/training/g54KP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G56bk', 'Blitz', 'jokamto_dedi', 1653, 'Tetomon', 1639, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,a6,a3,Be7,O-O,Nf6,d4,cxd4,Nxd4,Qb6,Nce2,Nbd7,Bd3,Ne5,b4,O-O,f4,Nxd3,cxd3,e5,fxe5,dxe5,Be3,exd4,Bxd4,Qd8,Kh1,Bg4,Bb2,Bd6,Qd2,Qc7,Ng3,Bxg3,hxg3,Qxg3,Qg5,h6,Qd2,Nh5,Rf2,Qh4+,Kg1,Ng3,Rf5,Bxf5,exf5,Qh1+,Kf2,Qh4,Kg1,Nxf5,Rf1,Ng3,Rf3,Qh1+,Kf2,Nh5,Rh3,Qb1,Rxh5,Rad8,Rxh6,Rxd3', 'Rh8+,Kxh8,Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/G56bk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G56r2', 'Rapid', 'XAKEOLI', 2032, 'zeitnotakrobat', 2485, 'd4,f5,Bg5,c6,e3,Qb6,Nd2,d5,Rb1,Nd7,c4,e6,c5,Qc7,Ngf3,Ngf6,Bf4,Qd8,Bd3,Ne4,Ne5,Qf6,h4,Be7,Bxe4,fxe4,Bg5,Qf8,Qh5+,g6,Qg4,Nxe5,dxe5,Bxc5,Bf6,Rg8,h5,Be7,Bxe7,Qxe7,hxg6,hxg6,Rh6,Qf7,Nb3,Bd7,Nc5,O-O-O,Ke2,Qf5,Qxf5,exf5', 'e6,Bxe6,Nxe6', 'https://lichess.org/training/G56r2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G57oD', 'Rapid', 'Yak37', 1759, 'spinoza23', 1795, 'd4,d5,c4,c5,e3,Nc6,Nf3,Bg4,Be2,Nf6,Qc2,e6,Nc3,cxd4,exd4,Bxf3,Bxf3,Nxd4,Qd3,Nxf3+,Qxf3,Bb4,Bd2,O-O,O-O,dxc4,Rad1,Qb6,Be3,Bc5', 'Na4,Bxe3,Nxb6', 'https://lichess.org/training/G57oD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g5A0W', 'Rapid', 'canfrans', 2168, 'cameleon2200', 2336, 'Nf3,g6,g3,Bg7,Bg2,e5,d3,d5,O-O,Ne7,c4,c6,cxd5,cxd5,Nc3,O-O,Bg5,f6,Bd2,Nbc6,a3,Be6,Rc1,Qd7,b4,b6,Qa4,Rfc8,Rc2,d4,Ne4,h6,b5,Nd8,Rxc8,Rxc8,Bb4,Nf7,Nh4,Kh7,Qa6,f5,Nd2,Nd5,f4,Ne3,Bc6,Rxc6,bxc6,Qxc6,Qxa7,Nxf1,Nxf1,e4,Qe7,Qd7,Nd2,Qxe7,Bxe7,Bd5,dxe4,Bxe4,Nxe4,fxe4,f5,d3,fxg6+,Kg8,gxf7+,Kxf7,Bb4,Bf8,exd3,exd3,Bxf8', 'd2,Bb4,d1=Q+', 'https://lichess.org/training/g5A0W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G5bPK', 'Rapid', 'fredyle', 1715, 'mpessini', 1758, 'e4,e5,c4,Nf6,d3,Bc5,h3,h6,f4,exf4,Bxf4,Bd4,Nc3,Bxc3+,bxc3,O-O,e5,Ne8,d4,d6,Nf3,Be6,d5,Bf5,Bd3,Bxd3,Qxd3,f6,e6,c6,O-O,cxd5,cxd5,Qb6+,Kh2,Nc7,e7,Re8,Rae1,Nd7,Qg6,Ne5,Nxe5,dxe5,Bxh6,Rxe7,Rxf6', 'Qxf6,Qxf6,gxf6', 'https://lichess.org/training/G5bPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g5EMI', 'Rapid', 'Shadow_Dancer', 1711, 'dva158', 1842, 'e4,e5,Nf3,Nc6,d3,h6,Be2,Bc5,Nc3,a6,O-O,d6,b3,Nf6,Bb2,O-O,Kh1,Nh7,Ne1,f5,Nd5,f4,c3,Ng5,Nf3,Ne6,d4,Ba7,dxe5,dxe5,c4,Ned4,Rc1,Re8,c5,b6,cxb6,cxb6,Bc4,Kh8,Nxd4,Nxd4,Bxd4,b5,Bxe5,bxc4,Bxf4,Rxe4,Bc7,Qh4,bxc4,Bxf2,g3,Bxg3,Bxg3,Qd8,Qd3,Re8,Bc7,Qd7,Bf4,Ra7,Qg6,Bb7,Bxh6,gxh6,Qxh6+,Qh7,Rf8+,Rxf8,Qxf8+,Qg8,Qh6+,Qh7,Qf6+,Qg7,Qh4+,Qh7,Qd4+,Kg8,Qxa7', 'Bxd5+,cxd5,Qxa7', 'https://lichess.org/training/g5EMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G5Ep1', 'Rapid', 'hmzn1', 1642, 'vilasgustavo742', 1656, 'e4,Nc6,d3,d6,Bd2,Nf6,Be2,Bd7,h3,g6,g4,e5,g5,Ng8,h4,Be6,h5,Bg7,hxg6,fxg6,c3,h6,gxh6,Bxh6,Kf1,Qf6,Bxh6,Rxh6,Rxh6,Nxh6,Na3,O-O-O,Nf3,Rf8,Nb5,g5,d4,Bg4,dxe5,Bh3+,Ke1,Qf7,exd6,g4,dxc7,gxf3', 'Nd6+,Kxc7,Nxf7', 'https://lichess.org/training/G5Ep1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g5HGc', 'Rapid', 'Ezgisu-lichess', 1606, 'MajorGiggles', 1664, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Qf6,Bxd5+,Be6,Bxc6,bxc6,Qxc6,Bb4,Qxc7+,Kg6,a3,Rhc8,Qb7,Rxc2,O-O,Rac8,Qe4+,Bf5,Qxb4,Rxc1,Nc3,Rxf1+,Rxf1,Bd3,Re1,Rf8,Qg4+,Kh6,f3,Bf5,Qg3,Qb6+,Kh1,Qxb2,Qxe5,Qxd2,Qe3+,Qxe3,Rxe3,Rc8,Ne2,Bd7,Re7,Bb5,h3,Bxe2,Rxe2,Rc3,Re6+,Kg5,Re7,g6,Rxa7,Kf4,a4', 'Kg3,Rd7,Rc1+,Rd1,Rxd1#', 'https://lichess.org/training/g5HGc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g5i44', 'Rapid', 'rodeo', 1829, 'oussama747', 1955, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Be7,O-O,Nf6,d3,h6,Re1,O-O,Nbd2,d5,exd5,Nxd5,a3,Bb7,Nf1,f5,Ne3,Na5,Nxd5,Bxd5,Bxd5+,Qxd5,Rxe5,Qd7,Re1,Nc6,Bd2,Bd6,Bc3,Rae8,Qd2,Qf7,Re2,Rxe2,Qxe2,Re8,Qd2,Be5,Re1,Bxc3,Qxc3,Rxe1+,Nxe1,Qe7,Kf1,Ne5,h3,g5,d4,Nc4,Nf3,h5,Nd2,Nd6,Qf3,g4,Qa8+,Kg7,Qxa6,gxh3,gxh3,Qh4,Qa8,Qxd4,Qg2+,Kf8,Qa8+,Ke7,Qa5,Qxb2,Qxc7+,Ke6,Qc5', 'Qc1+,Ke2,Qxd2+,Kxd2,Ne4+,Ke3,Nxc5', 'https://lichess.org/training/g5i44');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G5IP3', 'Rapid', 'HannibalsTea', 1860, 'santos2022', 1841, 'd4,e6,e4,c5,c3,cxd4,cxd4,Nc6,Nf3,Nge7,a3,Ng6,Bc4,Qa5+,Bd2,Qc7,O-O,Be7,Re1,Na5,Ba2,Nc4,Qc1,Bd8,Qxc4,Qxc4,Bxc4,O-O,Nc3,a6,b4,b5,Bd3,Bb7,Rac1,Be7,Ne2,f5,exf5,Bxf3,gxf3,exf5,Ng3,f4,Nf5,Bg5,h4,Bxh4,Nxh4,Nxh4,Be4,Rad8,Rc5,Rfe8,Bd5+,Kh8,Rxe8+,Rxe8,Be4,g5,Rc3,Kg7,Bc1,h6,d5,Kf6,d6,Ke6,Rd3,Rc8,Bd2,Rc2,Kh2,Rb2,Bd5+,Kxd6,Bb7+,Kc7,Bxa6', 'Rxd2,Rxd2,Nxf3+,Kg2,Nxd2', 'https://lichess.org/training/G5IP3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g5j4d', 'Rapid', 'Mithos30', 1854, 'py3', 1666, 'e4,c5,Nf3,g6,c3,Nc6,d3,Bg7,Be2,d5,O-O,Nf6,e5,Ng4,d4,cxd4,cxd4,O-O,Nc3,f6,h3,Nh6,Qb3,e6,exf6,Qxf6,Be3,Nf5,Bg5,Nfxd4', 'Bxf6,Nxb3,Bxg7,Kxg7,axb3', 'https://lichess.org/training/g5j4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G5JF6', 'Blitz', 'neilyoung1977', 2039, 'Man0war', 2039, 'e4,d5,Nc3,d4,Nce2,e5,Nf3,f6,Ng3,c5,Bc4,Nc6,Nh4,g6,O-O,Bg7,Bxg8,Rxg8,Nf3,Bg4,h3,Be6,d3,Qd7,c3,O-O-O,cxd4,cxd4,Bd2,Kb8,Qa4,f5,Rac1,f4,Ne2,Bxh3,gxh3,Qxh3,Rxc6,Qxf3,Rfc1,Qxe2,Rc7,Qxd3,Rxb7+,Kxb7,Qb4+,Ka8,Rc7,Qb1+,Kh2,Qxe4,Qe7,f3', 'Rxa7+,Kb8,Qc7#', 'https://lichess.org/training/G5JF6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G5K5U', 'Rapid', 'Strack', 2112, 'Starfalou', 2214, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Be7,Nc3,Nf6,Be3,d6,Qd2,Ng4,Bf4,g5,Bg3,h5,h3,Nge5,O-O-O,h4,Bh2,Ng6,Be2,Be6,Nd5,Bf8,Nd4,Bg7,Nxe6,fxe6,Ne3,O-O,Rhf1,Qf6,c3,Nce5,Ng4,Nxg4,Bxg4,Rae8,Rde1,b5,g3,b4,cxb4,c5,f4,gxf4,gxf4,cxb4,e5,dxe5,fxe5,Qxf1,Rxf1,Rxf1+,Kc2,Rh1,Bf3,Rc8+,Kb3,Rhc1,Be4,Ne7,Qd6,Kf7,Qxb4,a5,Qxa5,R1c5,Qb4,R8c7,a4,Rc1,Bf4,R1c5,a5,Bf8,Qb6,Nc8,Qb4,Na7,Be3', 'Rb5,Qxb5,Nxb5', 'https://lichess.org/training/G5K5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G5kHQ', 'Rapid', 'zorro_in_black', 2029, 'nico27', 1942, 'e4,e5,Nc3,Bc5,Nf3,d6,Bc4,Nf6,Qe2,Bg4,d3,Nc6,Be3,Nd4,Bxd4,exd4,Na4,Bb4+,c3,dxc3,bxc3,Ba5,O-O,O-O,Rab1,Qd7,Nb2,Bxc3,Rfc1,Ba5,Nd1,c6,Ne3,Bh5,Qb2,b5,Bb3,Bxf3,gxf3,Qh3,Nf5,Nh5,Rxc6,Nf4', 'Qxg7#', 'https://lichess.org/training/G5kHQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G5u3S', 'Rapid', 'Henne21', 2085, 'Ubixa', 2156, 'd4,Nf6,c4,Nc6,Nc3,e5,d5,Ne7,e4,Ng6,Be3,Bb4,Qc2,O-O,f3,c6,a3,Ba5,b4,Bc7,Bd3,Re8,Nge2,a5,b5,Bb6,c5,cxd5,exd5,Bc7,d6,Bb8,O-O,b6,Ne4,bxc5,Qxc5,Ba7,b6,Bb8,Nxf6+,Qxf6,Be4,Bxd6,Qd5,Ba6,Rab1,Bxe2,Rfc1,Ne7,Qd2,Ba6,Qxa5,Bb7,Qb5,Bxe4,fxe4,Rxa3,b7,Bb8,Bc5,Nc6,Bxa3,Nd4,Qxd7,Rf8,Bxf8,Ne2+,Kh1,Qh6,Rc8', 'Ng3+,Kg1,Qe3#', 'https://lichess.org/training/G5u3S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g5UGC', 'Rapid', 'ajedreztecnologico', 2110, 'Valeriexoxo', 2317, 'e4,Nc6,Nf3,e5,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Nc3,Nge7,Bd3,O-O,Qh5,h6,h4,d6,Bd2,Ne5,f3,Nxd3+,cxd3,f5,O-O-O,Be6,f4,Qe8,Qf3,Bf7,g4,fxg4,Qxg4,Bh5,Qg2,Bxd1,Rxd1,Qg6,Qh3,Rad8,f5,Qf6,Na4,Nc6,Nxb6,axb6,Bc3,Ne5,d4,Nc6,Rg1,d5,Rg6,Qf7,Qg4,Kh7,Bd2,Ne7,h5,Ng8,e5,Qxf5', 'Rxg7+,Kh8,Rxg8+,Rxg8,Qxf5', 'https://lichess.org/training/g5UGC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g5UUX', 'Blitz', 'Markins88', 2113, 'Domcef', 2115, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,O-O,Ne2,c5,O-O,Nc6,Be3,Qa5,Rc1,Rd8,h4,b5,Bd5,Bb7,h5,e6,Bxc6,Bxc6,h6,Bh8,e5,Qxa2,Bg5,Rd7,f4,Qd5,Rf2,a5,Qd3,a4,Qg3,a3,Qh4,a2,Ra1,Qb3,Bf6,Qb2,Bxh8,Qxa1+,Rf1,Qxf1+,Kxf1,a1=Q+,Kf2,cxd4,Qf6,Kf8,Qg7+,Ke8', 'Qg8+,Ke7,Bf6#', 'https://lichess.org/training/g5UUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G5Wo3', 'Classical', 'osaosasuna', 1741, 'DOMONDON', 1603, 'e4,e5,Nf3,Bc5,c3,Bxf2+,Kxf2,Nf6,d3,Qe7,Bg5,Qc5+,Be3,Ng4+,Kg3,Qxe3,Kxg4,Qf4+,Kh3,d5+,g4', 'Qxg4#', 'https://lichess.org/training/G5Wo3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g5wps', 'Rapid', 'rahmathidayat', 1864, 'Gargamelle', 1874, 'g4,d5,Bg2,Bxg4,c4,e6,Qb3,Nd7,cxd5,Nc5,Qb5+,Qd7,Qc4,exd5,Bxd5,Nf6,Bg2,O-O-O,b4,Be6,Qc2,Bf5,d3,Ne6,a3,Bd6,Nf3,g5,Be3,Kb8,Nc3,Nf4,O-O,Nxg2,Kxg2,g4,Nh4,Qc6+,f3,Be6,b5,Qd7,Qa4,b6,Bg5,Be7,Rac1,gxf3+,Nxf3,Bh3+,Kh1,Bxf1,Rxf1,Ng4', 'Bxe7,Qxe7,Qxg4', 'https://lichess.org/training/g5wps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G5ZFw', 'Rapid', 'trapez', 2103, 'Robb_91', 2064, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,Bb4,f3,d5,exd5,Nxd5,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,O-O,Bd3,Qb6,Qe2,Nc6,Qf2,Qc7,O-O,Be6,Nc5,Bc8,Qh4,f5,Rab1,b5,c4,Na5,Qf2,Nxc4,Bxc4+,bxc4,Rb4,a5,Rxc4', 'Ba6,Rc3,Bxf1', 'https://lichess.org/training/G5ZFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g5ZpL', 'Rapid', 'Juansa197789', 1633, 'robert89', 1822, 'e4,c5,g3,e5,Bg2,Nc6,Ne2,d6,O-O,Be7,c3,f5,f4,Nf6,d3,O-O,a3,fxe4,dxe4,Bg4,Qc2,Qb6,Kh1,a6,Nd2,Rad8,Nb3,Kh8,Ng1,Na5,Nxa5,Qxa5,Bh3,Bxh3,Nxh3,Qc7,Qe2,Qd7,f5,Qc6,Re1,h6,Nf2,Nd7,g4,Bh4,Nh3,Bxe1,Qxe1,Nf6,Nf2,b5,g5,hxg5,Bxg5,Kg8,Qe3,Rd7,Rg1,Rdf7,Bxf6,Rxf6,Ng4,Rxf5', 'Nh6+,Kh8,Nxf5,Rxf5,Qh3+,Rh5,Qxh5+', 'https://lichess.org/training/g5ZpL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g612E', 'Blitz', 'FM CalypsoChess', 2198, 'blackstar2u', 2160, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h5,e6,Nf6,exf7+,Bxf7,g5,Ne4,Nd2,e6,Bd3,Nd6,g6,Bg8,Ndf3,Nd7,Bg5,Qb6,Ne2,Ne4,O-O,Ndf6,Nf4,Bd6,Qc1,O-O-O,c4,Be7,c5,Qc7,Ne5,Ng4,f3,Nxg5,hxg5,Nxe5,dxe5,Qxe5,Re1,Qxg5+,Kf2,h4,b4,Qg3+,Ke2,Bg5,Qa3,Bxf4,Rf1,Kb8,b5,Be5,Rab1,cxb5,Rxb5,Bc7,Qa6,Qe5+,Kd1,b6,cxb6,Bxb6,Rxb6+,axb6,Qxb6+,Kc8,Ba6+,Kd7,Qb7+,Qc7,Bb5+,Kd6,Qa6+,Ke7,Qa3+,Qd6,Qa7+,Kf6,f4,h3,Qd4+,Ke7', 'Qxg7+,Bf7,Qxf7#', 'https://lichess.org/training/g612E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g65Ex', 'Rapid', 'Empirechessclub', 2087, 'Davicke85', 2080, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,Nc6,e3,O-O,Nge2,d6,O-O,Bg4,h3,Bd7,b3,Qc8,Kh2,Rb8,Bb2,a6,Qc2,e5,d4,exd4,Nxd4,Nxd4,exd4,Re8,Rae1,Bf5,Qd2,Qd7,Re3,Rxe3,fxe3,Qe7,g4,Be4,Nxe4,Nxe4,Qd3,Re8,Rf4,Ng5,Bc1,c5,Bd5,cxd4,exd4,Qe1,Rf1', 'Re2+,Qxe2,Qxe2+', 'https://lichess.org/training/g65Ex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G65rq', 'Rapid', 'spock11235', 1969, 'Schackmacke', 1971, 'e4,c5,Nc3,d6,Nf3,Nf6,Bb5+,Nc6,e5,Nd7,exd6,exd6,O-O,a6,Re1+,Be7,Bxc6,bxc6,d4,cxd4,Nxd4,Ne5,f4,c5,fxe5,cxd4,exd6,dxc3', 'Rxe7+,Qxe7,dxe7', 'https://lichess.org/training/G65rq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G6AMf', 'Blitz', 'CapablancaRey', 2031, 'shahalamchaudhry2', 1713, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,a3,Bb7,f3,d6,Be3,Nd7,Qd2,Ngf6,g4,Be7,g5,Ng8,h4,Ne5,O-O-O,b4,axb4,a5,b5,a4,Kb1,a3,b3,d5,exd5,exd5,Nf5,Bb4,Bd4,Nxf3,Qe2+,Ne7,Nxg7+,Kf8,Qxf3,Bxc3,Ne6+,Ke8,Nxd8', 'a2+,Kc1,a1=Q#', 'https://lichess.org/training/G6AMf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g6aZ3', 'Rapid', 'jihhaahuuuk', 1919, 'Marcelox', 2015, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,Qc2,Be6,e3,Nbd7,Bd3,c6,Nge2,h6,Bh4,Nh5,Bxe7,Qxe7,O-O,O-O,f3,Nhf6,e4,dxe4,fxe4,Ng4,Qd2,Qh4,h3,Ngf6,Rf4,Qh5,Qe3,g5,Rf3,g4,Rg3,Kh8,Nf4,Qh4,Nxe6,fxe6,e5,gxh3,Rxh3,Ng4,Qe4,Qf2+,Kh1,Qf5,Qe2,Nf2+,Kh2,Nxd3,Rxd3,Kh7,Rh1,Qf2,Qe4+,Rf5', 'Rf3,Qxf3,gxf3', 'https://lichess.org/training/g6aZ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g6b1p', 'Rapid', 'samerjouhar', 1705, 'AmineTal', 1754, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,Nf6,Bg5,a6,Na3,b5,Nd5,Be7,Nxe7,Qxe7,c3,O-O,f3,Bb7,Qd2,h6,Be3,Nh5,g4,Nf4,h4,Rad8,Bxf4,exf4,Qxf4,Ne5,Be2,d5,Rd1,dxe4,Rxd8,Rxd8,fxe4,Nd3+,Bxd3,Rxd3,O-O,Qc5+,Kh2,Qe7,Nc2,Qxh4+,Kg2,Qh3+,Kg1,Rg3+,Kf2,Kh7', 'Qxg3,Qxg3+,Kxg3', 'https://lichess.org/training/g6b1p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G6dX9', 'Classical', 'A-K', 1729, 'Aristipicus', 1747, 'd4,d5,Nc3,c5,e4,dxe4,Nxe4,cxd4,Nf3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nxd4,Bxe4,O-O,e5,Nb5,Qb6,Re1,Rd8,Qe2,f6,Be3,Bc5,Bxc5,Qxc5,Nxa7,Bd5,Nb5,Bc4,Qg4,g6,Nc3,Ne7,b3,Bb5,Ne4,Qb6,c4,Bc6,c5,Qa5,Nxf6+,Kf7,Rxe5,Kxf6,Qe6+,Kg7,Qxe7+,Kh6,Re3,Rd5,Qf6,Rhd8,Rh3+,Rh5,b4,Qa4,Qxd8,Rxh3,gxh3,Qxb4,Qf8+,Kh5,Rd1,Qe4,f3', 'Qe3+,Kf1,Bb5+,Kg2,Qe2+,Kg3,Qxd1', 'https://lichess.org/training/G6dX9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G6g9Y', 'Rapid', 'behrooztaj', 2042, 'Damov', 1965, 'e4,c5,Nf3,e6,c4,Qc7,Nc3,d6,Be2,a6,O-O,Nd7,d3,Ngf6,a3,g6,b4,b6,Rb1,Rb8,b5,Bg7,Bb2,O-O,a4,Bb7,h3,Rbd8,Nh2,Qb8,f4,Qa8,Bf3,Ne8,bxa6,Qxa6,Nb5,f6,Ng4,Qa8,Bc3,Bc6,Ra1,Qb7,Qc2,d5,cxd5,exd5,exd5,Bxd5,Ne3,Bc6,f5,g5,d4,Bxf3,Rxf3,cxd4,Bxd4,Rc8,Qb3+,Kh8,Rf2,Nc5,Bxc5,Rxc5,Rd1,Nc7,Rd7,Rc1+,Kh2,Qc6', 'Rxc7,Qxc7+,Nxc7', 'https://lichess.org/training/G6g9Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G6nHE', 'Rapid', 'CM Kingscrusher-YouTube', 2225, 'SungJiHyun-Korea', 2134, 'e4,e6,Nc3,d5,d4,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Nf3,Nbc6,Bd3,Qa5,Bd2,c4,Bf1,Bd7,g3,f6,exf6,gxf6,h4,O-O-O,Bh3,e5,Bg2,Bg4,Bh3,Bxh3,Rxh3,Nf5,dxe5,fxe5,Kf1,Nd6,Kg2,Rhf8,Ng5,Rf5,Qg4,Kb8,Nxh7,Qc5,Be3,d4,cxd4,Qd5+,Kg1,Nxd4,Bxd4,exd4,Rd1,d3,cxd3,cxd3,Ng5,Rdf8,Rh2,Nc4,a4,d2,Ne4,Ne5,Qe2,Nf3+,Kg2,Nd4,Rxd2,Nxe2,Rxd5,Rxd5,h5,Nd4,f4,Nf5,g4,Ne3+,Kf3,Nc4,f5,Ne5+,Kf4,Nd3+,Kg3,Re5,Ng5,Re3+,Kh4,Ne5,h6,Rh8,Kh5,Rg3,Rh4,Kc7,f6,Kd6', 'Ne4+,Ke6,Nxg3', 'https://lichess.org/training/G6nHE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g6niH', 'Blitz', 'CapaDante', 2011, 'Holmes90', 2239, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,g6,cxd4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,Be3,Bg7,O-O,O-O,Qe2,e6,Qd2,Rfd8,Rad1,Rac8,Qc1,Ne7,b3,a6,Qd2,b5,Nd5,Qxd2,Nxe7+,Kf8,Bxd2,Kxe7,Bb4+,Ke8,Bd3,Rxd4,Bxb5+,axb5,Rxd4,Nd5,Re4,f5,Rxe6+,Kf7,Rd6,Nxb4,a3,Nc2,Rc1,Bb2,Rb1,Bxa3,Ra6,b4,Ra7+,Kg8,Rd1,Bb2,Rdd7,Na1,Rxh7,Nxb3,Rhb7,Bc3,Rb6,Nc5,Rxg6+,Kf8,Rb6,b3,h4,b2,h5,Ne4,h6,Bd4,h7,Bxf2+,Kh2,Bd4', 'Rg6,Be5+,g3,Rc2+,Kh3,Nf2+,Kh4,Rc4+,Kh5', 'https://lichess.org/training/g6niH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g6OST', 'Rapid', 'DrNykerstein01', 1880, 'GamiLogic', 1757, 'c4,e6,Nf3,Nf6,d4,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,e3,b6,Bd3,Bb7,O-O,d6,a3,Nbd7,b4,Re8,Rc1,e5,d5,Qe7,e4,a5,Re1,axb4,axb4,Ra7,Nf1,Rea8,Ng3,g6,Qd2,Qf8,Bb1,Kg7,Ng5,h6,Nf3,Qe7,h4,Nh7,Bd3,Ra2,Qd1,R8a3,Bb1,Ra1,Bd3', 'Rxc1,Qxc1,Rxd3', 'https://lichess.org/training/g6OST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G6pQt', 'Rapid', 'coolknight31', 2040, 'Sharanya_2009', 1767, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,d4,Ne4,Bf5,Ng3,Bg6,Bb5+,Nc6,Nf3', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/G6pQt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g6psY', 'Blitz', 'FM profaVa', 2459, 'LaughingCoffin57', 2411, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Nf3,Nc6,cxd4,d6,Bc4,Nb6,Bb3,dxe5,d5,Nb4,Nc3,e4,Ne5,Bf5,d6,e6,d7+,Nxd7,Ba4,Nc6,Nxc6,bxc6,Bxc6,Rc8,Bxd7+,Qxd7,Qxd7+,Kxd7,Be3,Bb4,O-O-O+,Ke7,Bxa7,e3,Bxe3,Bxc3,bxc3,Rxc3+,Kb2', 'Rc2+,Ka1,Ra8', 'https://lichess.org/training/g6psY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G6QHn', 'Blitz', 'masonpafun', 1894, 'MBit', 1892, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Bg4,Be2,Nc6,Nbd2,g6,h3,Bf5,a3,Bg7,c4,Nb6,g4,Bd7,Ne4,dxe5,d5,Nd4,Nxd4,exd4,Bf4,O-O,Qd2,c6,h4,cxd5,Ng5,Nxc4,Bxc4,dxc4,h5,c3,Qd3,Bxg4,hxg6,hxg6,Nh7,Bf5,Qg3,cxb2,Rb1,Bxb1,Qh4,e5', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/G6QHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G6RcW', 'Rapid', 'Enricoperlin1', 1893, 'yuliaLev', 1858, 'd4,d5,c4,e6,Nf3,Be7,Nc3,Nf6,cxd5,exd5,Bf4,c6,Qc2,O-O,e3,Bg4,Be2,Nbd7,h3,Bh5,Ne5,Nxe5,Bxh5,Ng6,Bxg6,hxg6,O-O,Nh5,Bh2,Re8,Qb3,Qb6,Qc2,Rac8,a3,Qd8,Qa4,a6,Qc2,Bd6,Bxd6,Qxd6,Na4,Nf6,Qc5,Ne4,Qc2,b5,Nc3,c5,Nxe4,dxe4,Qd2,cxd4,exd4,Rc4,Rfd1,Rec8,Qe3,Qd5,Rd2,Rc2,Rad1,R8c4,Qb3', 'Rxd2,Rxd2,Rc1+', 'https://lichess.org/training/G6RcW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g6sz5', 'Rapid', 'TenAndOnly10', 1799, 'Pyromaniac', 1908, 'e4,e5,Bc4,Nf6,Nc3,Bc5,d3,d6,Nf3,Bg4,h3,Bh5,Bd2,O-O,g4,Bg6,Rg1,h5,Nh4,Kh7,g5,Ng8,Nf5,Ne7,Ng3,h4,Nh5,Nbc6,a3,Nd4,Qg4,Ne6,Qxh4,Bxh5,Qxh5+,Kg8,g6,Nxg6,Rxg6,Bxf2+,Kxf2', 'fxg6+,Ke2,gxh5', 'https://lichess.org/training/g6sz5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G6TH1', 'Blitz', 'Cerulian', 1678, 'venusamala', 1738, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,a3,a5,Nc3,Nf6,h3,d6,Bd2,O-O,g4,Nd4,g5,Ng4,Nxd4,Nxf2,Kxf2,Bxd4+,Be3,Bxe3+,Kxe3,Qxg5+,Ke2,Qg2+,Ke3,Bxh3,Qf3,Qg5+,Kf2,Be6,Rag1,Qd2+,Qe2,Qf4+,Ke1,Qc1+,Nd1,Bxc4,dxc4,f5,Rxh6,fxe4,Rhg6,Rf7,Qxe4,Raf8,Qe2,Rf2,Qxf2,Rxf2,Kxf2,Qxc2+,Ke3,Qc1+,Ke4,Qxc4+,Kf5', 'Qf4+,Ke6,Qf7#', 'https://lichess.org/training/G6TH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g6Xof', 'Rapid', 'jorgw', 1731, 'Kevin_Erb', 1802, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,O-O,d3,Nc6,O-O,Ne7,a3,d6,Ne2,Ng6,Ng3,Bg4,c3,d5,exd5,Nxd5,h3,Bxf3,Qxf3,c6,b4,Bb6,Bb2,a6,d4,exd4,cxd4,Bc7,Bd3,Ngf4,Bc2,Qd6,Nf5', 'Ne2+,Kh1,Qh2#', 'https://lichess.org/training/g6Xof');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g72qO', 'Classical', 'The1oClockClass', 1758, 'trupod', 1754, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nc3,Nxc3,bxc3,e6,e4,c5,Nf3,Qa5,Bd2,b5,c4,b4,a3,cxd4,axb4,Qd8,Ne5,Bd6,Ra5,O-O,Nf3,e5,Nxe5,Bxe5,Rxe5,Nc6,Rd5,Qf6,Bd3,Be6,Rd6,Ne5,Qe2,Qg6,O-O,Rfd8,Rxd8+,Rxd8,f4,Bg4,Qf2,Nxd3,Qg3,Nb2,f5,Qh5,Rf4,Be2', 'Rh4,Qxh4,Qxh4', 'https://lichess.org/training/g72qO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G73ET', 'Blitz', 'Kostyara813', 1743, 'Justsomerandomperson', 1815, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,Nc6,Be2,Bd7,O-O,Ne8,Kh1,f6,a3,e5,d5,Ne7,b4,h6,fxe5,fxe5,Bd2,Rf7,Qc1,Kh7,Nd1,Nf6,Bd3,Bg4,h3,Bxf3,Rxf3,Qf8,Nf2,Nh5,Rxf7,Qxf7,Ng4,g5,Qc2,Nf4,Rf1,Qg6,Kh2,Rf8,c5,Nxd3,Qxd3,Rxf1,Qxf1,Qxe4,Qf7,Qe2,Bxg5,hxg5,Qxe7,Qf1,cxd6,cxd6,Qxd6,Qf4+,Kg1,Qd4+,Kh2,e4,Qe6,e3,Nxe3,Be5+,Kh1', 'Qa1+,Nf1,Qxf1#', 'https://lichess.org/training/G73ET');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G7AtI', 'Rapid', 'Man77777', 1842, 'Chessvitorioso', 1901, 'd4,d5,Bg5,Nf6,e3,e6,Bd3,Bd6,Nd2,Nbd7,Ne2,c5,c3,Qb6,b3,O-O,O-O,cxd4,cxd4,Qc7,h3,a6,Rc1,Qb8,Bxf6,Nxf6,Nf3,Bd7,e4,dxe4,Ne5,Bxe5,dxe5,Qxe5,Bb1,Bc6,Qd4,Qg5,Ng3,Rfd8,Qe3,Qg6,Qf4,Rd4,Qe5,Rad8,Rce1,Qh6,a4,R4d5,Qc7,R5d7,Qe5,Qd2,Bxe4,Nxe4,Nxe4,Qd3,Nc5,Qd5,Nxd7', 'Qxg2#', 'https://lichess.org/training/G7AtI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G7bOL', 'Rapid', 'Golddoor', 2316, 'giannistst12', 2288, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Be2,c5,Nf3,Nc6,O-O,Bg4,Re1,e6,h3,Bh5,Ne5,Nxc3,bxc3,Bxe2,Qxe2,Nxe5,Qxe5,Qd6,Qe2,Be7,Qb5+,Qd7,a4,a6,Qc4,O-O,d3,b5,axb5', 'axb5,Rxa8,bxc4', 'https://lichess.org/training/G7bOL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G7fM0', 'Blitz', 'Rumbling-Thunder', 2208, 'Kulmarv1026', 2314, 'd4,d6,c4,Nf6,Nf3,b6,Nc3,Bb7,Bg5,e6,e3,Be7,Be2,Nbd7,O-O,h6,Bh4,g5,Bg3,Nh5,Rc1,a6,b4,f5,Ne5,Nxg3,Bh5+,Nxh5', 'Qxh5+,Kf8,Qf7#', 'https://lichess.org/training/G7fM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g7Hzu', 'Blitz', 'skif_2020', 1978, 'Ibrahim_engin', 1894, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,O-O,d6,b4,Be6,Bxe6,fxe6,Bb2,e5,c3,dxc3,dxc3,Nf6,f4,Nxe4,Qe2,d5,fxe5,Qg5,c4,Bxb4,cxd5,Bc5+,Kh1,Ng3+,hxg3', 'Qh6+,Qh5+,Qxh5#', 'https://lichess.org/training/g7Hzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g7JQW', 'Rapid', 'bragijoh', 1893, 'Boiled_Gooase', 1945, 'd4,Nf6,Bf4,c5,Nf3,cxd4,Qxd4,Nc6,Qd1,Qb6,b3,Qb4+,Qd2,Ne4,Qxb4,Nxb4,Na3,e6,Nd2,Nc3,e3,Nd3+,Bxd3,Bxa3,O-O,Bb2,Rae1,Nxa2,Nc4,Bf6,Nd6+,Ke7,Nc4,d5,Nd2,Nb4,Rc1,e5,Bg3,e4,Be2,h5,h4,Bg4,f3,exf3,gxf3,Bf5,e4,dxe4,Nxe4,Rac8', 'Bd6+,Ke6,Bxb4', 'https://lichess.org/training/g7JQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g7lNa', 'Rapid', 'CunningPlan', 1862, 'kolaleks', 2015, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,c5,h3,cxd4,Nxd4,a6,Bg5,g6,Qd2,h6,Be3,Bg7,O-O-O,Nc5,f3,Ne6,Nb3,Ng5,h4,Ne6,g4,Bd7,g5,hxg5,hxg5,Rxh1,gxf6,Bxf6,Nd5,Bc6,Qg2,Rh8,Nxf6+,exf6,f4,f5,Bd3,Qh4,Nd4,Nxd4,Bxd4,Qxf4+,Kb1,Rh2,Qg1,fxe4,Bc4,d5,Bb3,O-O-O,Be3,Qc7,Bb6,Qe5,Bxd8,Kxd8,Qb6+,Kc8,Qc5,Kb8,Qf8+,Ka7,Qc5+,Kb8,Qf8+,Qe8', 'Qd6+,Ka7,Qxh2', 'https://lichess.org/training/g7lNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g7lZT', 'Classical', 'alekseishmonov', 1905, 'MdManikHossain', 1778, 'b4,e5,Bb2,e4,c4,Nf6,a3,c6,Qc2,d5,f3,Bf5,e3,Bd6,Nc3,Nh5,cxd5,Qh4+,Ke2,Ng3+,hxg3,Qxh1,fxe4,Bg4+,Kf2,O-O,Nce2,f5,Nf4,fxe4,Qxe4,Nd7,Nf3,Rae8,Qc4,Nb6,dxc6+,Kh8,Qd4,Qh6,Qc3,Bxf3,gxf3,Be5,d4,Bxf4,exf4,Qh2+,Bg2,bxc6,Rh1', 'Re2+,Kxe2,Qxg2+', 'https://lichess.org/training/g7lZT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G7pp3', 'Rapid', 'breizhmasters', 1913, 'Pubin', 1789, 'c4,e5,g3,Nf6,Bg2,Bc5,Nc3,O-O,e3,Nc6,Nge2,d6,d4,exd4,exd4,Bb4,O-O,Re8,Be3,Rb8,Qc2,Bxc3,Qxc3,Ne4,Qd3,Bf5,Qd1,Qf6,Nf4,Ne7,f3,Ng5,b3,h6,h4,Nh7,g4,Bc8,h5,Ng5,d5,g6,Qd2,Kh7,Bd4,Nxf3+,Rxf3,Qg5,Bh3,Bxg4,Rg3,f5,Qf2,gxh5,Ne6,Qg6,Bxg4,hxg4,Rf1,h5,Qh2,Rg8,Nf4,Qg5,Nxh5,Kg6,Be3', 'Qxh5,Qxh5+,Kxh5', 'https://lichess.org/training/G7pp3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g7qvG', 'Rapid', 'rezavahabi8', 2050, 'Iosh', 1988, 'd4,Nf6,Bf4,g6,Nf3,Bg7,e3,d6,Bd3,Nbd7,Nbd2,c5,c3,O-O,Rc1,Re8,Bb1,e5,Bg5,exd4,cxd4,cxd4,Nxd4,Qa5,Bxf6,Nxf6,O-O,Bd7,N2b3,Qe5,Rc7,b6,Qd2,Rec8,Rfc1,Rxc7,Rxc7,d5,Qc1,Bf8,Nf3,Qh5,Nbd4,Bd6,Rc2,Ne4,Qf1,Bg4,h3,Bd7,Nb5,Ng5,Nxg5,Bxb5,Qxb5', 'Qd1+,Qf1,Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/g7qvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g7RuX', 'Rapid', 'piglo24', 1666, 'JORGEGALEA', 1683, 'e4,d5,d3,dxe4,d4,c5,c3,cxd4,cxd4,e5,d5,Bb4+,Bd2,Bxd2+,Qxd2,Nd7,Nc3,Ngf6,Nb5,O-O,O-O-O,Nb6,b3,Nbxd5,Bc4,Be6,Ne2,a6,Nbc3,b5,Bxd5,Bxd5,Ng3,Rc8,h4,b4,Qg5,Rxc3+,Kb2,Qb6,Nf5,g6,Qh6,Nh5', 'Ne7+,Kh8,Qxf8#', 'https://lichess.org/training/g7RuX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G7sZP', 'Rapid', 'ryanrajeev10', 1602, 'mohamedKF', 1873, 'e3,e5,Qf3,d5,c4,dxc4,Bxc4,Nf6,g4,Bxg4,Qg2,Bb4', 'Qxb7,Nbd7,Qxb4', 'https://lichess.org/training/G7sZP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G7tLh', 'Blitz', 'Tsintsadze', 1754, 'delos65', 1770, 'e4,e5,f4,exf4,Bc4,Bc5,d4,Bb6,Bxf4,Ne7,Nf3,O-O,O-O,c6,c3,d5,exd5,Nxd5,Bxd5,Qxd5,Qd3,Bf5,Qd2,Nd7,Na3,Rfe8,c4,Qe6,c5,Bd8,Rfe1,Be4,Ng5,Qg4,Rxe4,Bxg5,Rxe8+', 'Rxe8,Bxg5,Re2,Qxe2,Qxe2', 'https://lichess.org/training/G7tLh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g7ujc', 'Rapid', 'Carlsenliren', 1961, 'Lagune', 2000, 'e4,d6,d4,g6,c4,Bg7,Nc3,Nf6,Nf3,O-O,Be3,Nbd7,Qd2,c5,d5,Ng4,Bf4,Nge5,Be2,Nxf3+,Bxf3,Ne5,Be2,a6,Bh6,Rb8,Bxg7,Kxg7,f4,Nd7,g4,Nf6,f5,b5,Qe3,bxc4,Rb1,Qa5,O-O,Bd7,g5,Ne8,Qh3,Rh8,Qh6+,Kg8,Bxc4,Ng7,f6,exf6,gxf6,Ne8,Bb3,c4,Bxc4', 'Qc5+,Rf2,Qxc4', 'https://lichess.org/training/g7ujc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g7yFt', 'Blitz', 'CM Patonotucupi', 2399, 'EdmundoAzevedo', 2206, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,Bg4,Bd3,e6,O-O,Nf6,h3,Bxf3,Qxf3,Be7,Ne2,O-O,b3,Nbd7,Bb2,Qa5,c4,Ba3,Bc3,Bb4,Bb2,Ba3,Bxa3,Qxa3,Nc3,Qa5,Rfe1,Rad8,a3,Qh5,Qg3,g6,Qc7,Rb8,Ne4,Rfc8,Qf4,Nxe4,Bxe4,Qa5,b4,Qc7,Qh6,Qd6,h4,Nf6,Rad1,Nxe4,Rxe4,Rd8,h5,Qf8,Qf4,Qg7,h6,Qf8,g4,Rd7,g5,Rbd8,Kg2,Qd6,Qf6,Qf8,Rf4,a6,Rd3,Rc8,Rdf3,Rcd8,a4,Rc8,b5,axb5,axb5,cxb5,cxb5,Rcd8,Rc3,Rd5,b6,Rf5,Rxf5,gxf5,Rc7,Rb8,Kg3,Qd6+,Qe5,Qxe5+,dxe5,Kf8,Kf4,Ke8,Ke3,Kf8,f4,Ke8,Kd4,Rd8+,Kc5,Rd5+,Kc4,Rd1,Rxb7,Rf1,Kc5,Rxf4,Kd6,Rd4+,Kc7,Rd5,Rb8+,Ke7,Rh8,Rxe5,Rxh7,Rc5+,Kb8,f4,b7,f3,Ka7,Rb5,Rg7', 'f2,b8=Q,Rxb8', 'https://lichess.org/training/g7yFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g7ZsM', 'Rapid', 'Tiglatpilesar', 1986, 'Daniel1a3', 1917, 'e4,c5,d4,b6,Nf3,e6,Bc4,Ba6,Qe2,Bxc4,Qxc4,Be7,O-O,h6,d5,Nf6,Nc3,O-O,Ne5,d6,Nd3,Qd7,Nf4,exd5,exd5,Rd8,Re1,Bf8,b3,Qf5,Ne6,Rc8,Nf4,Nbd7,Bb2,Ne5,Qa4,a6,Nce2,Qxc2,Bxe5,dxe5,Rac1,Qf5,Nh3,Bd6,Ng3,Qg4,Rc4,Qd7,Qxd7,Nxd7,Nf5,Bf8,Rce4,g6,Nh4,Bd6,f4,Re8,Nf3,f6,fxe5,Nxe5,Nxe5,Rxe5,Rxe5,fxe5,Nf2,Kf7,Ne4,Ke7,g4,Rf8,Kg2,Rf4,Kg3,b5,Nxc5,Bxc5', 'Rxe5+,Kf7,Kxf4', 'https://lichess.org/training/g7ZsM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G7ZWM', 'Blitz', 'Andrea_Perrine', 1931, 'The95Perfectionist', 2051, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bc5,O-O,d6,h3,O-O,Re1,a6,Ba4,b5,Bb3,Nd4,Nxd4,Bxd4,d3,Be6,Nd5,c6,Ne3,Qd7,Kh2,g6,c3,Bb6,Bc2,Nh5,Ng4,Bxg4,hxg4,Nf6,g5,Nh5,d4,exd4,cxd4,f5,exf5,Rxf5,Bxf5,Qxf5,Be3,d5,Qf3,Bc7+,Kg1,Qd7,Qe2,Rf8,Rac1,Qf5,Qc2,Qg4,Qxc6,Bf4,Qxd5+,Kh8,Bxf4,Nxf4,Qe5+,Kg8,g3,Nh3+,Kg2', 'Rxf2+,Kh1,Qf3#', 'https://lichess.org/training/G7ZWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G843r', 'Rapid', 'mckonsti', 1701, 'hadi-irany', 1646, 'e4,e6,d4,c6,Nf3,Bb4+,c3,Be7,Be2,d5,e5,c5,b3,Nc6,Na3,cxd4,cxd4,Bd7,Nb5,Bb4+,Bd2,Be7,a3,a6,Nc3,b5,O-O,Nh6,Bxh6,gxh6,Bd3,Bg5,Qc2,f5,exf6,Qxf6,Ne2,O-O-O,a4,Kb7,axb5,Nb4,bxa6+,Ka8,Qc3,Nxd3,Qxd3,Ka7,b4,Rb8,Rfb1,Rhc8,b5,Rb6,Ra3,Rcb8,Rab3,Bf4,Nxf4,Qxf4,Qxh7,Qc7,Qxh6,Bxb5,Ne5,Bc4,Rxb6,Rxb6,Rxb6,Qxb6,Qh7+,Kxa6,Nxc4,Qxd4,Qc2', 'Qa1+,Qb1,Qxb1#', 'https://lichess.org/training/G843r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g86yf', 'Rapid', 'LOSER123', 1680, 'Christy2007', 1773, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,a4,a6,O-O,d6,d3,Bg4,Bg5,h6,Bxf6,Qxf6,Bd5,Bxf3,gxf3,Qg5+,Kh1,Qh4,b4,Bxf2,Qe2,Ba7,Nd2,O-O,Rg1,Rab8,Rg4,Qf6,Qg2,Ne7,Bc4,Ng6', 'Rxg6,Qxg6,Qxg6', 'https://lichess.org/training/g86yf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G88Sf', 'Rapid', 'spasskyandhutch', 1867, 'Sotnas1997', 1867, 'd4,Nf6,Bg5,e6,e4,h6,Bxf6,Qxf6,e5,Qf5,Bd3,Qg5,Be4,c5,Nh3,Qh4,Qf3,cxd4', 'Bxb7,Bxb7,Qxb7', 'https://lichess.org/training/G88Sf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g8A6h', 'Classical', 'Patanga', 1751, 'LucianoPolo', 1727, 'd4,e6,a3,d5,Nf3,Nf6,e3,Bd6,Be2,Nc6,b3,O-O,Bb2,Ne4,O-O,h6,Nbd2,f5,Ne5,f4,exf4,Rxf4,Nxc6,bxc6,g3,Rf6,Bf3', 'Nxd2,Qxd2,Rxf3', 'https://lichess.org/training/g8A6h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G8bhu', 'Rapid', 'ferry566', 1681, 'Reginald-Bosanquet', 1741, 'b3,e5,Bb2,Nc6,e4,d5,exd5,Qxd5,Qf3,Be6,Qxd5,Bxd5,Nc3,O-O-O,Nxd5,Rxd5,Bc4,Rd7,Nf3,Bd6,O-O,Nf6,Ng5,Rf8,Bb5,h6,Bxc6,bxc6,Nh3,Bb4,Bc3,Bxc3,dxc3,Rd2,Rac1,Ne4,c4,Nc3,Ra1,Rfd8,Kh1,Re2,a4,Rdd2,Rac1,Rxc2,Rxc2,Rxc2,Re1,Re2,Rxe2,Nxe2,Ng1,Nxg1,Kxg1,Kd7,Kf1,Kd6,b4,e4,Ke2,Ke5,Ke3,f5,f3,f4+,Kd2,e3+,Kd3,h5,g3,g5,h3,a6,gxf4+,gxf4,h4,Kd6,a5,Ke6,Ke2,Kf5', 'b5,cxb5,cxb5,axb5,a6,b4,a7', 'https://lichess.org/training/G8bhu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g8cWW', 'Rapid', 'seamuskab', 1670, 'Xyna1972', 1727, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Nf6,d4,Bd7,dxe5,dxe5,Bxc6,Bxc6,Qxd8+,Rxd8,Nxe5,Bxe4,Nxe4,Nxe4,O-O,Bd6,Nc4,O-O,Re1,Rfe8,Be3,f6,Rad1,g5,f3,b5,Nxd6,Nxd6,Bxa7,Rxe1+,Rxe1,Nc4,b4,Kf7,Bc5,c6,Re7+,Kg6,Rc7,Ne5,Kf2,Rd2+,Ke3', 'Nc4+,Ke4,f5#', 'https://lichess.org/training/g8cWW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g8ddP', 'Rapid', 'PlayToLearnOnly', 2087, 'Porkchops-3_99kg', 2027, 'd4,Nf6,Bf4,c5,d5,e6,c4,exd5,cxd5,d6,Nc3,g6,e4,a6,a4,Bg7,Bd3,O-O,Nf3,Bg4,h3,Bxf3,Qxf3,Nh5,Bh2,Qc7,g4,Nf6,h4,h5,gxh5,Nxh5,Ke2,Nd7,Rag1,Ne5,Bxe5,Bxe5', 'Qxh5', 'https://lichess.org/training/g8ddP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G8IL2', 'Rapid', 'ettoh888', 2018, 'Sliceofnice', 1788, 'e4,c5,Nc3,d6,f4,Nf6,Nf3,e6,Bb5+,Nbd7,d3,a6,Bxd7+,Bxd7,O-O,Be7,Qe1,b5,Be3,b4,Nb1,Ng4,Bd2,Qb6,h3,Nf6,Be3,Rc8,b3,a5,Nbd2,a4,Nc4,Qb7,Qg3,Nh5,Qh2,O-O,e5,d5,Ncd2,f5,exf6,Nxf6,Ne5,Be8,Ndf3,c4,Ng5,Qa6,Qg3,cxb3,axb3,a3,h4,Rxc2,Qh3,h6,Nxe6,Rf7,Nd4,Rb2,Nxf7,Bxf7,Qf5,h5,Rfc1,Ng4,Rc8+,Bf8,Nc6,Qb7,Bc5,g6,Rxf8+,Kg7,Qc8,Qxc8,Rxc8,a2,Ra8', 'Rb1+,Rxb1,axb1=Q#', 'https://lichess.org/training/G8IL2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g8jap', 'Rapid', 'breetak', 1765, 'Arad1948', 1717, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c6,Bg5,Be7,e3,b6,Bd3,Bb7,Qe2,Nbd7,O-O,h6,Bh4,g5,Bg3,Nh5,e4,Nxg3,fxg3,dxe4,Bxe4,Nf6,Bc2,Bf8,Ne5,Bg7,Rad1,Qc7,b4,O-O,Qd3,Rfe8,Ne4,Nxe4,Qxe4,f5,Rxf5,exf5,Qxf5,Rxe5', 'Qh7+,Kf8,Rf1+', 'https://lichess.org/training/g8jap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G8kIL', 'Rapid', 'Sergey-NAUMOV', 1736, 'skula', 1735, 'e4,c5,Bc4,e5,Nf3,d6,d3,h6,c3,Nc6,Qb3,Qe7,Bb5,Bd7,Ba4,Na5,Bxd7+,Qxd7,Qc2,Nf6,O-O,b6,b4,cxb4,cxb4,Rc8,Qd2,Nc6,a3,Nd4,Nxd4,exd4,Qf4,Be7,Nd2,g5,Qg3,Nh5,Qf3,Nf4,Nc4,Ng6,Bb2,Ne5,Qe2,Nxc4,Bxd4,Ne5,Bxe5,dxe5,Rfd1,O-O,Qh5,Qe6,Rab1,Kg7,h3,f5,exf5,Qxf5,Qe2,Bd6,f3,Qf4,Qb2,Kg6,Re1,Rfe8,Re4,Qf6,Rf1,Rc7,Qb3,Rec8,Rc4,Rxc4,dxc4,Qf4,Qd3+,e4,fxe4,Qe5,Rf5,Qh2+,Kf2,g4,hxg4,Qh4+,Kf3,Qg3+,Ke2,Qxg2+,Rf2,Qxg4+,Kf1,Be5', 'Rg2,Rf8+,Kg1', 'https://lichess.org/training/G8kIL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g8r6j', 'Rapid', 'Jellyworld', 1804, 'povermsj', 1741, 'e4,e5,Nf3,Nc6,c3,Bc5,d4,exd4,cxd4,Bb4+,Nc3,Nf6,Bc4,O-O,O-O,Bxc3,bxc3,d5,exd5,Nxd5,Re1,Nxc3,Qb3,Nxd4,Nxd4,Qxd4,Bxf7+,Kh8,Bb2,Qf6,Bxc3,Qxf7', 'Qxf7,Rxf7,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/g8r6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G8Shf', 'Classical', 'bobby70', 1754, 'kingandqueen1', 1702, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,dxc3,Nxc3,Nf6,Ng5,O-O,Qb3,Ne5,Be2,h6,Nf3,Bg4,Nxe5,Bxe2,Nxe2,dxe5,Rd1,Qe7,Qg3,Nxe4,Qb3,Nxf2,Rf1,Ne4+,Kh1,Bb6,Be3,Nc5,Bxc5,Qxc5,Ng3,Rad8,Rad1,Rxd1,Rxd1,c6,Rf1,Qe3,Qd1,Bd4,Nf5,Qe4,b3,Bb6,Qd7,Qe2,Ne7+,Kh7,Qf5+,g6,Nxg6,Qxf1+,Qxf1,Kxg6,Qd3+,Kf6,Qd6+,Kg7,Qxe5+,Kg8,Qe7,Rd8,Qe2,Kg7,g4,f6,h4,Rd5,Qe7+,Kg6,h5+,Kg5,Qg7+,Kh4,Qxf6+,Kxg4,Qxh6', 'Rxh5+,Qxh5+,Kxh5', 'https://lichess.org/training/G8Shf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G8tQT', 'Rapid', 'Rocky303', 2001, 'GabrielMoy', 2054, 'Nf3,Nf6,e3,e6,d4,d5,Bd3,Bd6,O-O,O-O,c4,c5,cxd5,exd5,dxc5,Bxc5,Bd2,Nc6,Qc2,Qd6,Rc1,Bb6,Ng5,g6,Na3,Ng4,Nf3,Nce5,Nxe5,Qxe5,g3,Qh5,h4,Ne5,Bc3,Nf3+,Kg2,Nxh4+,gxh4,Qg4+,Kf1,Qxh4,Re1,Bg4,f3,Bxf3,Re2,Qh1+,Kf2,Qg2+,Ke1,Qg1+,Kd2,Qxa1,Rf2,Qh1,Be2,Bxe2,Rxe2,Rac8,Nb5,Bc5,Qa4,a6,Nd4,Bxd4,Qxd4,f6,Qb6,d4,exd4,Rfd8,Qe6+,Kg7,Qe7+,Kh6,Qxf6,Qd5,Qh4+,Kg7,Re7+,Kg8', 'Qxh7+,Kf8,Qg7#', 'https://lichess.org/training/G8tQT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g8uHS', 'Blitz', 'petrovich100', 1977, 'CZA1980', 1991, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,h3,Be7,Bg5,O-O,Nc3,Nd4,Nxd4,exd4,Ne2,c6,Bc4,Qb6,O-O,d5,exd5,Nxd5,Bxd5,Bxg5,Bb3,c5,f4,Bf6,Ng3,Bd7,Ne4,Be7,f5,Bc6,f6,gxf6,Nxf6+,Bxf6,Rxf6,Kh8,Qh5,Rg8,g4,Qc7,Qh4,Qe5,Raf1,Qe3+,Kh2,Rg7,Rxf7,Rxf7,Rxf7,Qe2+,Rf2,Qe5+,Kg1', 'Qe1+,Kh2,Qh1+,Kg3,Qg1+,Kf4,Rf8+', 'https://lichess.org/training/g8uHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G8X7C', 'Bullet', 'SoldatThib', 1860, 'fjutzel', 1969, 'e4,c5,Ne2,e6,Nbc3,Nc6,g3,Nf6,Bg2,Be7,O-O,Qc7,d4,cxd4,Nxd4,O-O,Be3,d5,exd5,exd5,Nxd5,Nxd5,Bxd5,Ne5,Bg2,Bg4,Qd2,Rad8,c3,Bf3,Bf4,Bxg2,Kxg2,Bf6,Bxe5,Bxe5,Rfe1,Bxd4,cxd4,Qc6+,Kg1,Rd7,Qc3,Qd6,Rad1,g6,Re3,Rfd8,Rde1,Qd5,Re4,Qxa2,Re8+,Rxe8,Rxe8+,Kg7,d5+,f6,Qc5,Kh6,Qf8+,Kh5,Qxf6,Rxd5,h3,Qb1+,Kh2,Qd3,g4+,Kh6,Qf4+,g5,Qf6+,Qg6', 'Qf8+,Qg7,Re6#', 'https://lichess.org/training/G8X7C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G909q', 'Rapid', 'Timbo23', 1940, 'live_forever', 2012, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nc6,Bb5,Nf6,Nf3,Bg4,O-O,Be7,h3,Bxf3,Qxf3,O-O,Bxc6,bxc6,Re1,Bd6,Bf4,Rb8,b3,Bb4,Re3,Re8,Rxe8+,Nxe8,a3,Bd6,Re1,Qf6,Bxd6,Qxf3,gxf3,Nxd6,Re7,Rc8,Ne2,Kf8,Re5,f6,Re6,Kf7,Re3,Re8,Kf1,Nf5,Rxe8,Kxe8,c3,Kd7,b4,g5,a4,Nd6,a5,Nc4,Kg2,Ke6,Kg3,h5,f4,Kf5,fxg5,fxg5,Kf3,Nd2+,Kg3,Ne4+,Kf3,g4+,hxg4+,hxg4+,Kg2,a6,f3,Ng5,fxg4+,Kxg4,Nc1,Ne4,Nb3,Nxc3,Nc5,Kf4,Nxa6,Ke4,Nxc7,Kxd4,a6,Na4,b5,cxb5,Nxb5+,Kc4,a7,Nb6,Nc7,d4,Kf2,Kc3', 'Nd5+,Nxd5,a8=Q', 'https://lichess.org/training/G909q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G95jo', 'Rapid', 'IslamOsama51', 1677, 'Yersinia_Pestis', 1770, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,Bb4,a3,Bxc3,dxc3,O-O,b4,d6,Be2,Ne4,Qc2,f5,O-O,Qf6,g3,b6,Bd3,Bb7,Nh4,Ne7,a4,g5,Ng2,c5,f3,Nxg3,hxg3,Qh6,g4,e4,fxe4,f4,exf4,Ng6,f5,Ne5,Bd2', 'Nxg4,Nh4,Qxh4', 'https://lichess.org/training/G95jo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9Cqt', 'Blitz', 'meterbreks', 1872, 'coval1', 1848, 'c4,e6,e3,b6,a3,Bb7,Nc3,d6,h3,Nd7,Nf3,Be7,Nb5,a6,Nc3,Ngf6,b4,h6,Bb2,O-O,Na4,c5,b5,axb5,cxb5,d5,Be2,c4,d3,cxd3,Qxd3,Nc5,Nxc5,Bxc5,Ne5,Nd7,Nxd7,Qxd7,Bh5,Rfe8,O-O,e5,f4,exf4,Bd4,g6,Bg4,f5,Rxf4,Re4,Bxf5,gxf5,Raf1,Rxf4,Rxf4,Rxa3,Qe2,Bxd4,exd4,Ra1+,Kh2,Qd6,Qe8+,Kg7,Qe3,Ra3,Qf2,Bc8,h4,h5,g3,Kg6,Qc2,Be6,Rf2,Ra1,Qd2,Qe7,Qf4,Rb1,Rc2,Rxb5,Rc7,Qf6,g4,hxg4', 'h5+,Kxh5,Rh7+,Qh6,Rxh6#', 'https://lichess.org/training/G9Cqt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g9f9d', 'Rapid', 'TaylorSwiftsButt', 1695, 'muzakhir', 1699, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kxf2,Nxe4+,Ke1', 'Qh4+,g3,Nxg3,hxg3,Qxh1+', 'https://lichess.org/training/g9f9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g9fpM', 'Rapid', 'CM smealow', 2222, 'luisfonsilangit', 2127, 'Nf3,c5,c4,e6,g3,g6,Bg2,Nc6,Nc3,Bg7,O-O,Nf6,h3,O-O,d3,Re8,Be3,b6,Bf4,Bb7,Qd2,d5,cxd5,Nxd5,Nxd5,exd5,Bh6,Bxh6,Qxh6,Rxe2,Ng5,Qf6,Rae1,Rae8,Rxe2,Rxe2,Bxd5,Nd8,Nxh7,Qg7,Qxg7+,Kxg7,Bxb7,Nxb7,Ng5,Rxb2,Re1,Nd6,a4,Rd2,h4,Rxd3,Re7,a5,Rd7,Rd4', 'Ne6+,Kf6,Nxd4', 'https://lichess.org/training/g9fpM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g9FV0', 'Blitz', 'roshannand', 1602, 'LeftWing11', 1638, 'e4,e5,Qf3,d6,Bc4,Nf6,h3,Be6,Bb5+,c6,Be2,c5,d3,h6,Qg3,Be7,Qxg7,Rg8,Qxh6,Nc6,Bg5,Nd4,Bd1,Nd7,Bxe7,Qxe7,Qh7,O-O-O,Qh5,f5,Nf3,fxe4,Nxd4,exd4,dxe4,Nf6,Qe2,Rxg2,Qf3,Rgg8,Nd2,d5,e5,Nd7,Be2,Nxe5,Qa3,Nc6,O-O-O,Qh7,Bd3,Qh4,Rhe1,Bxh3,Qxc5,Bg4,Be2,Qxf2,Bxg4+,Rxg4,c3,dxc3,Qxc3,Kb8,Nb3,Rc8,Nc5,Nb4', 'Nd7+,Ka8,Qxc8#', 'https://lichess.org/training/g9FV0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9ggC', 'Rapid', 'Santiler12', 1671, 'IShouldBeWriting', 1655, 'd4,d5,Bf4,Nc6,e3,g6,Bb5,Bd7,Bd3,Nf6,Nf3,Bg4,Nbd2,Bg7,h3,Bd7,Bg5,O-O,Nh4,e5,Be2,exd4,O-O,Re8,Bf3,Bc8,Nb3,dxe3,fxe3,Ne7,Nd4,c6,Be2,Qd6,c3,Bxh3,Bf4,Qd7,gxh3,Qxh3,Ng2,Ne4', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/G9ggC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g9gUi', 'Blitz', 'Kozel_vecchio', 1818, 'Tameana', 1818, 'e4,c5,d4,cxd4,Qxd4,e6,e5,Nc6,Qa4,Nxe5,Nc3,Nc6,Nf3,Nf6,Bg5,Be7,O-O-O,d5,Ne5,Qc7,Bb5,Bd7,Bxf6,Bxf6,Nxd7,Qxd7,Ne4,Be7,Rhe1,O-O,Ng3,a6,Bxc6,Qxc6,Qg4,Rfc8,c3,b5,Nh5,Bf8,h4,b4,Re3,Qa4,Rxe6,Qxa2,Rh6,bxc3', 'Nf6+,Kh8,Rxh7#', 'https://lichess.org/training/g9gUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9hs4', 'Rapid', 'DRAOUI', 1721, 'joseignaciom', 1821, 'e4,d5,Nc3,dxe4,Nxe4,Nc6,Nf3,Bg4,Be2,f5,Ng3,e5,O-O,Qd7,h3,Bxf3,Bxf3,O-O-O,Bxc6,bxc6,Qe2,Bd6,Qa6+,Kb8,d3,Ne7,Be3,Nc8,a4,f4,Bxa7+,Nxa7,Ne4,h5,a5,Rdg8,Qc4,Be7,a6,g6,Qb4+,Nb5,Qb3,Ka8,c4,Rb8,cxb5,cxb5,Rfc1,g5,Nc5,Qc8,Qd5+,Ka7,Qb7+,Qxb7', 'axb7+,Kb6,Ra6#', 'https://lichess.org/training/G9hs4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9ISM', 'Classical', 'DOMIN8RR', 1817, 'Filipe-Lopes', 1877, 'd4,d5,Bf4,Nf6,c4,e6,a3,Nbd7,e3,a6,Nc3,dxc4,Bxc4,b5,Bd3,Bb7,Nf3,c5,O-O,cxd4,Nxd4,e5,Re1,exd4,exd4+,Be7,Bd6,Nb6,Rxe7+,Qxe7,Bxe7,Kxe7,Qe2+,Kd8,Ne4,Re8,f3,Re6,Re1,Ke8,Qf2,Nbd5,Nxf6+,Nxf6,Rxe6+,fxe6,Qh4,h6,Bg6+,Ke7,g4,Rd8,Be4,Bxe4,fxe4,Rxd4,e5', 'Rxg4+,Qxg4,Nxg4', 'https://lichess.org/training/G9ISM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g9jiM', 'Classical', 'kkinhole', 1702, 'JGGamer21', 1840, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,c4,Nf6,Nc3,Bb4,f3,d5,cxd5,cxd5', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/g9jiM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9jR3', 'Rapid', 'CoffeeArabica', 2051, 'Jony0304', 2087, 'd4,e6,c4,f5,Nf3,d5,Bg5,Be7,Bxe7,Nxe7,Nc3,O-O,e3,Ng6,Be2,c6,O-O,Nd7,Qc2,Nf6,cxd5,exd5,a3,Ne4,Nd2,Be6,f3,Nxd2,Qxd2,Qd6,e4,fxe4,fxe4,dxe4,Nxe4,Qd7,Nc5,Qd6,Nxe6,Qxe6,Rac1,Qd6,Bc4+,Kh8,Qg5,Qxd4+,Kh1,Rxf1+,Bxf1,Qf4,Qc5,Qe5,Qb4,Qe7,Qb3,Rf8,Bc4,Ne5,h3,Nxc4,Qxc4,h6,Qc3,Qf6,Qd2,Rd8,Qe2,Qg5,Rf1,Rd2', 'Rf8+,Kh7,Qe4+,Qg6,Rh8+,Kxh8,Qxg6', 'https://lichess.org/training/G9jR3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9L1p', 'Rapid', 'avantonov1979', 1904, 'deitana02', 1851, 'e4,e6,Nc3,g6,Bc4,Bg7,d3,Bxc3+,bxc3,b6,f4,Ba6,Bb3,Nc6,Nf3,h6,O-O,Nf6,Bb2,Nh5,c4,Rg8,Qd2,Na5,g4,Nf6,h3,Nxb3,cxb3,Bb7,Kh2,d6,Rae1,Nd7,f5,gxf5,exf5,Bxf3,Rxf3,e5,Qxh6,Qf6,Qxf6,Nxf6,d4,e4,d5,O-O-O,Rfe3,Nxg4+,hxg4,Rxg4,Rxe4,Rg5,Rf4,Rdg8,Re2', 'Rh5+,Rh4,Rxh4#', 'https://lichess.org/training/G9L1p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g9N4f', 'Rapid', 'NebenEckenSpringer', 2239, 'kosvopros', 2259, 'd4,Nf6,Bf4,d6,e3,Nbd7,Nf3,Nh5,Bg5,h6,Bh4,g5,Nfd2,Ndf6,Bg3,Bg7,Bd3,O-O,Nc3,b6,Nce4,Nxg3,hxg3,Bb7,Nxf6+,exf6,Rh2,f5,Bxf5,c5,c3,Qf6,Be4,d5,Bd3,cxd4,cxd4,Qe6,Kf1,f5,Rc1,f4,gxf4,gxf4,exf4,Rxf4,Nf3,Raf8,Rc7,Bc8,Qc2,Rxf3,gxf3,Qd6,Rg2,Bd7,Rg6,Qe7,Qe2', 'Bh3+,Kg1,Qxc7', 'https://lichess.org/training/g9N4f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9pJQ', 'Rapid', 'nobodynose', 1634, 'M-Hada', 1616, 'd4,d5,c4,e6,Nf3,Nf6,a3,c5,Nc3,cxd4,Nxd4,g6,e3,Bg7,Be2,O-O,O-O,a6,Nf3,Nc6,cxd5,exd5,Nd2,d4,exd4,Nxd4,Nde4,Nxe4,Nxe4,Re8,Bg5,Nxe2+,Qxe2,Qd5', 'Nf6+,Bxf6,Qxe8+', 'https://lichess.org/training/G9pJQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9raq', 'Rapid', 'Lupin3rd', 1619, 'asr11', 1620, 'e4,d6,d4,g6,Nf3,Bg7,Bc4,h6,Be3,Nc6,Bb5,Bd7,Nc3,e5,d5,Nce7,O-O,Nf6,h3,O-O,a4,Kh7,h4,a6,Bxd7,Qxd7,g3,Qg4,Kg2,Nxe4', 'Ng5+,hxg5,Qxg4', 'https://lichess.org/training/G9raq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g9sxR', 'Rapid', 'galaleboda', 1617, 'Britvich', 1762, 'e4,e6,d4,d5,e5,c5,c3,Nc6,f4,Bd7,Nf3,Qb6,Be2,cxd4,cxd4,Bb4+,Bd2,Nxd4,Nxd4,Qxd4,a3,Bxd2+,Qxd2,Qxd2+,Kxd2,Nh6,h3,Nf5,Bd3,Ng3,Re1,a6,Nc3,Rc8,Ne2,Ne4+,Bxe4,dxe4,Nc3,Bc6,Nxe4,Bxe4,Rxe4,O-O,Rc1', 'Rfd8+,Ke2,Rxc1', 'https://lichess.org/training/g9sxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9TzC', 'Rapid', 'ava0872elis', 1897, 'neldon', 1873, 'e4,e5,Qh5,Qe7,Bc4,Nf6,Qe2,d6,Nc3,c6,d3,Be6,Bb3,Bxb3,axb3,Nbd7,Be3,Nb6,Bxb6,c5,Rxa7,Rxa7,Bxa7,Qc7,Nb5,Qa5+,Nc3,Qxa7,Nf3,Qa1+,Nd1,Be7,O-O,O-O,c4,Qa2,Nc3,Qxb3,Nb5,Ra8,Nh4,Ra2,Nf5,Kf8,Qf3,Rxb2,Qg3,Rb1,Qxg7+,Ke8,Nbxd6+,Kd7,Qxf7', 'Rxf1+,Kxf1,Qd1#', 'https://lichess.org/training/G9TzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9u2k', 'Bullet', 'ussr_master', 2373, 'GM K-Georgiev', 2614, 'c4,e5,Nc3,Nf6,g3,Bc5,Bg2,d6,e3,Nc6,Nge2,a6,d4,Ba7,O-O,h5,h3,Bf5,Nd5,exd4,exd4,Nxd5,cxd5,Ne7,Nf4,Qd7,Kh2,O-O-O,Re1,Rdg8,Nxh5,Nxd5,Bxd5,Bxh3,Kg1,c6,Bf3,d5,Bf4,Bf5,g4,Bg6,Ng3,Rh4,Kg2,Rgh8,Rh1,Rxh1,Nxh1,Qd8,Ng3,Qf6,Qd2,Qxd4,Rd1,Qxd2,Rxd2,Bb8,Bxb8,Kxb8,Re2,Rd8,Re7,d4,Nf5,d3,Kg3,d2,Bd1,Rd5,Kf4,Bxf5,gxf5,f6,Rxg7,Re5,Rd7,Kc8,Rxd2,Re1,Bb3,Kc7,Be6,b5,Kf3,Kb6,Re2,Rd1,Ke3,c5,Rd2,Re1+,Kd3,c4+,Kc2,Kc5,a3,a5,Rd5+,Kc6,Rd8,Re2+,Kc3,Rxf2,Rf8,Kc5,Rc8+,Kb6,Rf8,Kc5,Rxf6', 'b4+,axb4+,axb4#', 'https://lichess.org/training/G9u2k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9V44', 'Rapid', 'Spielfrei8', 2204, 'rikis12', 2049, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nh3,Nf6,Nf4,e6,h4,Bd6,h5,Bxf4,Bxf4,Bf5,Nxf5,exf5,c3,Nd5,Bd2,Qe7+,Qe2,Qxe2+,Bxe2,Nd7,O-O-O,h6,Bd3,g6,hxg6,fxg6,Rde1+,Kf7,Bxh6,Rae8,Rxe8,Kxe8,Re1+,Kf7,Bg5,Rh2,Bc4,Nf6,Bxf6,Kxf6,Bxd5,cxd5,Rg1,f4,f3,Kf5,Kd2,g5,Ke2,g4,Kf2,g3+,Ke2,b5,Kd3,Ke6,Kc2,Kd6,Kb3,a5,a4,Kc6,axb5+,Kxb5,Kc2,a4,Kd3,Rh7,c4+,dxc4+,Ke4,Rf7,Ke5,Kb4,d5,Kb3,Ke6,Rf8,Rc1,Re8+,Kf5,Rf8+,Ke6,Re8+,Kf5,Rd8,Kxf4,Rxd5,Rc3+,Kb4,Rc2,Rd3,Kxg3,Kb3,Re2,c3,bxc3,Rxc3,Re8,a3,Rb8+,Kc2,Ra8,Kb2,Kf4,a2,g4', 'Ra3,Rxa3,Kxa3', 'https://lichess.org/training/G9V44');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9VRV', 'Rapid', 'amin8', 1786, 'Abrokodabr', 1672, 'e4,c5,Nf3,d6,Bc4,g6,O-O,Nc6,c3,Bg7,d4,cxd4,cxd4,Nf6,Re1,d5,e5,dxc4,exf6,Bxf6,Bh6,Nxd4,Nxd4,Qxd4,Qa4+,Bd7,Qb4,Qxb2,Rxe7+,Kd8,Rxd7+,Kxd7,Qa4+,b5,Qd1+,Kc7,Bf4+,Kb6', 'Qd6+,Ka5,Bd2+', 'https://lichess.org/training/G9VRV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9VzC', 'Rapid', 'medji911', 1718, 'RCdesdeOviedo', 1750, 'd4,d5,g3,Nc6,Bg2,Nf6,Nc3,e6,Nf3,Bb4,a3,Bxc3+,bxc3,O-O,O-O,Ne7,h3,Ng6,Re1,Ne4,Ng5', 'Nxg5,Bxg5,Qxg5', 'https://lichess.org/training/G9VzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g9XdK', 'Rapid', 'mikos1', 1897, 'Peaaace', 1901, 'e4,c5,Nf3,Nc6,c3,e6,d4,d5,exd5,exd5,Bb5,Nf6,c4,Bg4,O-O,Be7,h3,a6,Ba4,Bd7,Ne5,O-O,Nxd7,Qxd7,cxd5,b5,dxc6,Qxc6,Bc2,cxd4,Re1,Bc5,Bd3,Rae8,Bd2,Bb6,Na3,Qd6,Qf3,Bc7,g3,Nd5,Nc2,f5,Nxd4,f4,Rxe8,Rxe8,Nf5,Qd7,Qg4,Kh8,Rc1,Rf8,Bc3,Nxc3,Rxc3,g6,Nh6,Qe7,Qh4', 'Qe1+,Bf1,fxg3,Qd4+,Be5', 'https://lichess.org/training/g9XdK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g9XwX', 'Rapid', 'Fiva', 1657, 'ontonio', 1693, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bd6,d3,O-O,a3,Nd4,Nxd4,exd4,Ne2,c5,Bd2,Bc7,Bf4,a6,Bxc7,Qxc7,O-O,b5,Ba2,d6,f4,Be6,f5,Bxa2,Rxa2,d5,Ng3,dxe4,Nxe4,Nxe4,dxe4,Rfe8,Qg4,f6,Qf4,Qf7,b3,c4,b4,d3,cxd3,cxd3,Rd2,Rad8,Rfd1,Qb3,Qe3,Qxa3,Rxd3,Rxd3,Rxd3,Qxb4,Ra3,Rxe4,Qb3+,Qxb3,Rxb3,Ra4,Kf2,g6,fxg6,hxg6,Rb2,Kf7,Ke3,Ra3+,Kd4,Ra4+,Kc5,Rh4,h3,Rc4+,Kb6,Ra4,Rb3,Ra2,g3,a5,Kxb5,a4,Rc3,Ra1,Kb4,a3,Rxa3', 'Rxa3,Kxa3,Ke6', 'https://lichess.org/training/g9XwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g9xXQ', 'Rapid', 'nicolas900', 1807, 'mahyir35', 1751, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,c6,h3,Nf6,Nf3,Qd6,d3,e5,O-O,Be7,Ne4,Qc7,c3,O-O,Nxf6+,Bxf6,Bg5,Nd7,Qc2,c5,Rac1,b6,d4,Bb7,Bxf6,gxf6,Qf5,Rae8,Bd3,e4,Bc2,Kh8,Nd2,Rg8,Nxe4,Bxe4,Bxe4,Rg7,h4,Reg8,g3,Rxg3+,fxg3', 'Qxg3+,Kh1,Qxh4+,Qh3,Qxh3#', 'https://lichess.org/training/g9xXQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9ygo', 'Blitz', 'marma65', 1695, 'PaRiBi', 1668, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,c5,e3,Ne4,Qc2,d5,cxd5,exd5,Bb5+,Nc6,Bxc6+,bxc6,O-O,O-O,Nxe4,dxe4,Ne5,cxd4,exd4,Qxd4,Nxc6,Qc5,Nxb4,Qxb4,Be3,a5,a3,Qe7,Rac1,a4,Qc7,Qf6,Qc3,Qg6,Rfd1,Bg4,Rd5,Bf3,Rg5,Rfc8,Rxg6,Rxc3,Rxc3,hxg6,gxf3,exf3,Bf4,g5,Bg3,g4,Rc4,f5,Rc5,g6,Rc6,Kh7,Rc7+,Kg8,h4,Rd8,Be5,Rd1+,Kh2,Rd2,Kg3,Rd1,Rg7+,Kf8,Rxg6,Rg1+,Kf4,Rg2,Bd4,g3,fxg3,f2,Bxf2,Rxf2+,Ke3,Rxb2,Rg5,Rb3+,Kd4,Rxa3,Rxf5+,Ke7,Ra5,Rxg3,Kc5,Rg4,h5', 'Rg5+,Kb4,Rxa5,Kxa5,a3,Ka4,a2', 'https://lichess.org/training/G9ygo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('g9z1t', 'Blitz', 'ALOUZE', 1956, 'Anikst', 1997, 'e4,c5,c3,e6,Nf3,d5,exd5,Qxd5,Na3,Nf6,Nb5,Qd7,Ne5,Qd8,Qa4,Bd7,d4,a6,Bg5,Be7,Bxf6,gxf6,Nxd7,Qxd7', 'Nc7+,Kf8,Qxd7,Nxd7,Nxa8', 'https://lichess.org/training/g9z1t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9zjY', 'Blitz', 'robert33a', 1996, 'Dayana1t', 2090, 'e4,e5,f4,Bc5,Nf3,Nc6,Bc4,d6,Nc3,Nf6,Na4,Bb6,Nxb6,axb6,d3,Bg4,O-O,Nd4,fxe5,dxe5,Bxf7+,Kxf7,Nxe5+,Ke8,Nxg4,Nxg4,Qxg4,Nxc2,Rb1,Qd4+,Kh1,Ne3,Bxe3,Qxe3,Qf5,Qc5,Qf7+,Kd8,d4,Qe7,Qd5+,Kc8,Rf7,Qd6,Qf5+,Kb8,Rd7,Qb4,Qf7,Rc8,Rc1,Qxb2,Rdxc7', 'Qxc1+,Rxc1,Rxc1+,Qf1,Rxf1#', 'https://lichess.org/training/G9zjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('G9ZwI', 'Rapid', 'moolla', 1854, 'TKChile', 1717, 'd4,e6,Bf4,d5,Nf3,Nf6,e3,Nc6,Nbd2,Bd6,Bg3,Bxg3,hxg3,O-O,c3,Bd7,Bd3,e5,dxe5,Ng4,Bxh7+,Kh8,Qc2,Nh6,Bd3,Qe7,O-O-O,Nxe5,Nxe5,Qxe5,Rh4,c5,Rdh1,Qf6,g4,c4,Be2,Qxf2,g5,Qxe2', 'Rxh6+,gxh6,Rxh6+,Kg7,Qh7#', 'https://lichess.org/training/G9ZwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GA0fR', 'Rapid', 'Mohamedbarakat3', 1929, 'Renard_au_Canard', 2229, 'f4,Nf6,Nf3,d5,e3,c5,c3,g6,d4,Qc7,Bd3,Bg7,O-O,O-O,Qc2,c4,Be2,Bf5,Qd1,Nc6,Nbd2,Ne4,Nxe4,Bxe4,b3,b5,bxc4,bxc4,Ne5,f6,Nxc6,Qxc6,Bf3,e5,Bxe4,dxe4,fxe5,fxe5,Rxf8+,Rxf8,Ba3,Rd8,Bc5,exd4,exd4,a6,a3,a5,Qd2', 'Qxc5,dxc5,Rxd2', 'https://lichess.org/training/GA0fR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GA0n9', 'Blitz', 'svidlerforpresident', 2455, 'sr654', 2468, 'd4,Nf6,c4,e6,Nf3,Bb4+,Nbd2,d5,Qa4+,Nc6,e3,O-O,Qc2,Bd6,a3,e5,dxe5,Nxe5,Be2,dxc4,Nxe5,Bxe5,Nxc4,Qe7,O-O,Ne4,f3,Nd6,Nxe5,Qxe5,e4,f5,Qxc7,fxe4,fxe4,Rxf1+,Bxf1,Qd4+,Kh1,Be6,Be3,Qxe3,Qxd6,Qxe4,Rc1,Re8,Qd2,Bf5,Bc4+,Kh8,Kg1,Bg6,Rf1,h6,Qf4,Qc6', 'Qf8+,Rxf8,Rxf8+,Kh7,Bg8+', 'https://lichess.org/training/GA0n9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ga0rG', 'Rapid', 'KhanyaMazibuko', 1885, 'get_ready2', 1869, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,Bc4,Bg4,h3,Bh5,Bd2,e6,Qe2,Bb4,a3,Bxc3,Bxc3,Qc7,g4,Bg6,Ne5,Be4,f3,Bd5,Bd3,Nbd7,Bd2,b5,O-O-O,a5,Rhe1,Nxe5,dxe5,Nd7,f4,Nc5,f5,Nxd3+,Qxd3,h5,f6,g6,Kb1,hxg4,hxg4,Rb8,Be3,c5,Qc3,c4,Rxd5,exd5,e6,b4,axb4,axb4,Qd4,b3,Bf4,Qa5,exf7+,Kd8,Re8+,Kd7,Re7+,Kc8,f8=Q+,Rxf8,Qe5,bxc2+,Kxc2,Qa4+,Kd2,Qb4+,Kc1,Qxb2+,Qxb2,Rxb2,f7,Rxf7,Rxf7,Rg2,g5,Rg4,Kd2,d4,Ke2,c3,Kf3', 'Rxf4+,Rxf4,c2,Rxd4,c1=Q', 'https://lichess.org/training/Ga0rG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GA27o', 'Blitz', 'atowk', 1765, 'torbinator', 1813, 'e4,e5,Nc3,Nc6,Nf3,Bb4,Bc4,d6,d3,Nf6,Bd2,O-O,O-O,h6,Nd5,Nxd5,Bxd5,Bxd2,Qxd2,Ne7,Bb3,Bg4,Nh4,Nc6,g3,Nd4,c3,Nxb3,axb3,Qd7,f4,exf4,Rxf4,g5,Rxg4,Qxg4,Nf5,Qh5,c4,Kh7,Qc3,Qg6,Ne7,Qe6,Nf5,Qe5,Qd2,c6,Rf1,f6,h4,d5,exd5,cxd5,c5,Rac8,Qc2,Qc7,d4,b6,Ne7+,Kg7', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/GA27o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ga3Rc', 'Rapid', 'PM1', 1913, 'Juri37', 1904, 'e4,d5,exd5,Nf6,Bc4,Nxd5,d3,c6,Nf3,Bg4,h3,Bh5,Nbd2,e6,g4,Bg6,Ne4,Bd6,Nxd6+,Qxd6,Bd2,Nf4,Bxf4,Qxf4,Qe2,O-O,Nh4,Qf6,Nf3,Qxb2,O-O,Qc3,Ne5,Rd8,Nxg6,hxg6,Bb3,Rd4,Rab1,Na6,Bc4,Nc5,Rfe1,Rf4,Rbc1,Rd8,Qe5,Qxe5,Rxe5,Nd7,Re4,Rxe4,dxe4,Ne5,Bb3,Rd2,Kg2,Kf8,Kg3,Ke7,f3,c5,c4,b6,Kf4,Nd3+,Ke3,Nxc1,Kxd2,Nxb3+,axb3,Kd6,Kd3,Ke5,Ke3,a6,f4+,Kd6,e5+,Kc6,g5,b5,Kd3,a5,Kc3,a4', 'cxb5+,Kxb5,bxa4+', 'https://lichess.org/training/ga3Rc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gA3zb', 'Rapid', 'Vit75', 1501, 'frerelachess', 1584, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,c5,b3,Nc6,a3,Qc7,O-O,cxd4,Nxd4,Qxe5,Be3,Bd6,g3,Nf6,Nc3,O-O', 'Nxc6,bxc6,Bf4,Qh5,Bxd6', 'https://lichess.org/training/gA3zb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ga4JU', 'Bullet', 'dino_razalan', 2100, 'CM malkalmardgh', 2092, 'd4,c5,dxc5,e6,Nf3,Bxc5,Bf4,Nf6,e3,d5,Bd3,O-O,c3,Be7,Ne5,Nc6,Nd2,a6,h4,Nxe5,Bxe5,Bd6,Bd4', 'e5,Bxe5,Bxe5', 'https://lichess.org/training/ga4JU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GA5x5', 'Rapid', 'CHANEL12', 1899, 'JainJS1947', 1975, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c4,e6,Be3,a6,Nc3,Ne7,Be2,O-O,O-O,Nbc6,Qd2,f5,Rfd1,fxe4,Nxe4,Nf5,Nxf5,Rxf5,Bg5,Qb6,Rab1,Nd4,Be3,e5,Bg4,Rf7,Ng5,Rf8,Nf3,d6,Bxd4,exd4,Bxc8,Raxc8,Nxd4,Rxc4,Ne6,Rf6,Qxd6,Qxf2+,Kh1,Rc6,Qb8+,Bf8,Nxf8,Rxf8,Qxb7,Rcf6,Qb3+,R8f7,Qb8+,Kg7,h3,h5,Qb3,g5,Qc3,Kh6,Qd2,Qxd2,Rxd2,g4,hxg4,hxg4,Kh2,Kg5,Rd5+,Rf5,Rf1', 'Rh7+,Kg3,Rxd5', 'https://lichess.org/training/GA5x5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ga8nT', 'Classical', 'Azazo8', 1625, 'sonics72', 1655, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,O-O,d5,exd5,cxd5,Bb5+,Bd7,Qe2,Bd6,Re1,O-O,Bg5,h6,Bxf6,Qxf6,Bxd7,e4,Nc3,Bb4,Nxd5,Qxb2,Qxe4,Bxe1,Qxe1,Rad8,Bc6,Qxc2,Nb4,Qb2,Rc1,Rd4,Rb1,Rfd8,Nd5,Qxa2,Ne7+,Kf8,h3', 'Qxb1,Qxb1,Rd1+,Qxd1,Rxd1+', 'https://lichess.org/training/ga8nT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ga8wM', 'Blitz', 'arturzp', 2173, 'Flamingonegro', 1992, 'e4,c5,b4,cxb4,a3,bxa3,d4,e6,Nf3,Nf6,Bd3,b6,c3,Bb7,e5,Nd5,h4,h6,h5,Qc7,Be4,Nxc3,Nxc3,Qxc3+,Bd2,Qc7,Rc1,Nc6,Qb3,Be7,d5,exd5,Bxd5,O-O,Rh3,Qd8,Rg3,Kh8,Bxf7,Na5,Bxa5,Bxf3,Bc3,Bc6,e6,Bg5,Qc2,dxe6,Qg6,Rxf7,Qxf7,Qg8,Qg6,Bxc1', 'Bxg7+,Qxg7,Qxg7#', 'https://lichess.org/training/ga8wM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ga9hL', 'Rapid', 'Hanu_123', 1609, 'Terrazas1961', 1703, 'e4,e6,Nf3,d5,e5,Nc6,d4,Nge7,c3,Nf5,g3,Nce7,Bg2,c6,O-O,Qb6,Re1,c5,g4,Nh6,Be3,Nxg4,Ng5,Nxe3,Rxe3,cxd4,cxd4,h6,Nf3,Qxb2,Nbd2,Nf5', 'Rb3,Qxa1,Qxa1', 'https://lichess.org/training/Ga9hL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GaBRe', 'Rapid', 'Yas-_-inE', 1945, 'Bacovia', 1851, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,c5,Nf3,d5,Bd2,cxd4,Nxd4,dxc4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/GaBRe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gACdA', 'Rapid', 'becobec', 1741, 'kastet80', 1800, 'd4,d5,Bf4,Nf6,Nf3,Bf5,e3,e6,Nbd2,Nbd7,c3,c5,Be2,Be7,O-O,O-O,Ne5,cxd4,exd4,h6,Ndf3,g5,Bg3,Ne4,Bb5,Ndf6,Re1,a6,Ba4,Nxg3,hxg3,Kg7,Nh2,h5,Nhf3,Bg4,Bc2,Ne4,Bxe4,dxe4,Rxe4,f5,Re1,Qb6,Qd2,Qd8,Qc2,Rc8,Qb3,f4,Nxg4,hxg4,Ne5,fxg3,fxg3,Qd6,Nxg4,Qxg3,Qxe6,Bd6,Qh6+,Kg8,Nf6+', 'Rxf6,Qxf6,Qh2+,Kf1,Rf8', 'https://lichess.org/training/gACdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gACvO', 'Rapid', 'TpuTopmaHaBcex', 1758, 'appuz_chess', 1782, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,Nf3,c5,e4,Nxc3,bxc3,Nc6,d5,Na5,Be2,Be7,O-O,O-O,Be3,b6,Nd2,exd5,exd5,Qxd5', 'Bf3,Qd8,Bxa8', 'https://lichess.org/training/gACvO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GaDxN', 'Rapid', 'kchondo2020', 1686, 'Toli12', 1843, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Nc3,h6,h3,O-O,O-O,d6,a3,a6,Nh2,b5,Bb3,Nd4,Ba2,Be6,Bxe6,Nxe6,Kh1,c6,f4,exf4,Bxf4,Nxf4,Rxf4,d5,e5,Nh7,Ng4,f6,exf6,Nxf6,Nxf6+,Rxf6,Qf3,Rxf4,Qxf4,Qd6,Qf3,Rf8,Qg4,Qf6,Rd1,Bd6,Ne2,Qxb2,Qe6+,Kh8,Qxd6,Rf6,Qg3,Qxc2,Qe1,Qb2,Ng3,Rf2,Qg1,c5,Rf1,Rc2,Nh5,a5,Rf8+,Kh7,Qf1', 'Rc1,Qxc1,Qxc1+', 'https://lichess.org/training/GaDxN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GaI1g', 'Rapid', 'saharnori', 1635, 'mvreal63', 1601, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,e4,c6,e5,Bg5,Nf3,Bh6,Bd3,c5,O-O,cxd4,Nxd4,Nc6,Nxc6,bxc6,cxd5,cxd5,Re1,O-O,Nb5,Qb6,Nd6,Ba6,Bxa6,Qxa6,b3,f6,exf6,Rxf6,Rxe6,Rxe6,Qxd5,Qxd6,Qxa8+,Qf8,Qxa7,Qe8,g3,Re1+,Rxe1,Qxe1+,Kg2,Qe4+,f3,Qe2+,Qf2,Qe6,Qc2,Qa6,Qc4+,Qxc4,bxc4,Be3,a4,Bc5,f4,Kf7,Kf3,Ke6,Ke4,g6,a5,Kd6,a6,Ke6,h4,Ba7', 'g4,Kd6,f5', 'https://lichess.org/training/GaI1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gaKCm', 'Rapid', 'Mohr', 2015, 'JNKCB', 1786, 'e4,d5,Nc3,d4,Nce2,e5,Nf3,Bd6,d3,c5,Ng3,Nc6,Be2,Nf6,Bg5,h6,Bxf6,Qxf6,h3,Bd7,a3,O-O-O,O-O,g5,Nd2,h5,Nxh5,Qg6,Bg4,Bxg4,Qxg4+,Kb8,Ng3,Rh4,Qf3,Ne7,Nc4,Bc7,Nf5,Nxf5,Qxf5,Rg8,Nxe5', 'Qxf5,exf5,Bxe5', 'https://lichess.org/training/gaKCm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gALCR', 'Rapid', 'Fzebral', 1724, 'BAPI', 1606, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bf5,Bd3,Bxd3,Qxd3,Nf6,Bg5,Be7,O-O,O-O,Nbd2,Nbd7,c3,c6,Ne5,Nh5,Bxe7,Qxe7,f4,Nxe5,fxe5,f6,Nf3,Nf4,Qd2,Ng6,exf6,Rxf6,Ng5,Raf8,Rxf6,Qxf6,Qe3,h6,Qe6+,Kh8,Qxf6,Rxf6,Nf3,Re6,Re1,Rxe1+,Nxe1,Kg8,Kf2,Kf7,g3,Ke6,Nf3,a6,h4,Nf8,g4,Nd7,Ke3,g6,Kf4,Kf6,Ne5,Nxe5,dxe5+,Ke6,b4,b6,a4,c5,bxc5,bxc5,g5,h5,a5,d4', 'cxd4,cxd4,Ke4,d3,Kxd3,Kxe5,Kc4,Kf4,Kc5', 'https://lichess.org/training/gALCR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GAlSn', 'Rapid', 'zoran_56', 1606, 'David1024', 1621, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Bd3,Nc6,d5,Ne5,a3,g6,Ne2,Bg7,Nbc3,O-O,O-O,b6,Bf4,Nxd3,Qxd3,e5,Be3,a5,Qb5,Ba6,Qa4,Bxe2,Nxe2,Qc7,Rac1,Qb7,Ng3,b5,Qc2,Rfc8,Qd2,Ng4,h3,Nxe3,Qxe3,f5,exf5,Qxd5,fxg6,hxg6,Rfd1,Rxc1,Qxc1,Qe6,Qc6,Rd8,Qxb5,Qa2,Qd5+,Qxd5,Rxd5,Kf7,Ne4,Ke6,Rxa5,d5,Ra6+,Kf5,Ng3+,Kg5,b4,d4,Ne4+,Kf5,Nd2,d3,g4+,Kg5,Ra5,Kf4,Kg2,e4,b5', 'Bc3,Ra4,Bxd2', 'https://lichess.org/training/GAlSn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GANo9', 'Blitz', 'MarkoSajko', 1976, 'Viklavoz', 2007, 'd4,d5,c4,e6,Nc3,Nf6,e3,Be7,f4,O-O,Nf3,Ne4,Bd3,f5,h4,Ng3,Rh3,Ne4,cxd5,exd5,Qb3,c6,Bxe4,fxe4,Nxe4,Kh8,Neg5,h6,Qc2,hxg5,hxg5+,Bxh3,gxh3,Bd6,Qg6,Qe7', 'Qh5+,Kg8,g6,Qxe3+,Bxe3', 'https://lichess.org/training/GANo9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gAORN', 'Rapid', 'DanKa7', 1920, 'rrgartuz', 1836, 'd4,Nf6,c4,g6,Nc3,d5,c5,c6,Bf4,Bf5,e3,Bg7,Be5,Nbd7,Bxf6,Nxf6,Nf3,O-O,Be2,b6,cxb6,Qxb6,b3,Qb4,Qd2,a5,Ne5,Rfc8,O-O,Ne4,Nxe4,Bxe4,Qxb4,axb4,Nd3,Bxd3,Bxd3,e5,dxe5,Bxe5,Rac1,Rxa2,e4,Bc3,exd5,cxd5,Bb5,Rb2,Ba4,d4,Rfd1,Rc5,Rd3,Re5,Rdd1,Ree2,Rf1,d3,Bb5,Red2,Rcd1,Rxb3,Bc4,Rbb2,Rxd2,Rxd2,Rb1,Kg7,Bb3,Bd4,Rf1,Rb2,Bc4,d2,Be2,Rc2,Bd1,Rc1,Bb3,Rxf1+,Kxf1,Bc3,Ke2,Kf6,Ke3,Ke5,f4+,Kf5,h3,h5,Kf3,f6', 'g4+,hxg4+,hxg4#', 'https://lichess.org/training/gAORN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GAOW5', 'Rapid', 'Moinsen', 1801, 'ChristianRincon', 1850, 'd4,Nf6,Bf4,d6,e3,g6,Bd3,Bg7,Nc3,Nh5,Bg3,Nxg3,hxg3,Nc6,f4,Bf5,Bxf5,gxf5,Qd3,Qd7,Nf3,O-O-O,Ng5,Rdf8,Rxh7,Rxh7,Nxh7,Rh8,Ng5,Rh1+,Kd2,Rxa1,Nxf7,Rg1,Nd5,Rxg2+,Kd1,e5,Ng5,exd4,exd4,Nxd4,c3,Ne6,Qxf5,Nxg5,Qxg5,c6,Ne7+,Kc7,Qxg7,Kb6', 'Nd5+,cxd5,Qxd7', 'https://lichess.org/training/GAOW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gApZb', 'Rapid', 'kontaxis91', 1806, 'Sharip', 1817, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,d3,O-O,Bb3,d6,h3,h6,Nbd2,Be6,Bc2,d5,Qe2,Qd7,Nf1,dxe4,dxe4,Bd6,Ne3,Ne7,O-O,Ng6,Rd1,Nf4,Qf1,Qc6,Nf5,Bc4,Qe1,Rfe8,b3,Ne2+,Kh1,Nxc1,Raxc1,Be6,Qd2,Bxf5,exf5,Rad8,Qe1,Qc5,b4,Qc6,Bb3,a6,a3,b5,c4,bxc4,Bxc4,Qb6,Bb3,e4,Nd4,e3,f3,Bf4,Ne2,Rxd1,Rxd1,Bd6,Nd4,Be5,Ne2,Bb2,Rd3,Bxa3,Bxf7+,Kxf7,Rxa3,Qb5,Ng3,Nd5,Nf1,Qxb4,Qxb4,Nxb4,Rxe3,Rxe3,Nxe3,Nd3,Kg1,a5,Kf1,a4,Ke2,a3', 'Kxd3,a2,Nc2', 'https://lichess.org/training/gApZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gaq4g', 'Rapid', 'fernajedrez', 2146, 'Jonnyturgi', 2285, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bd3,e6,Bxg6,hxg6,Bf4,Ngf6,h3,Nd5,Qd2,Nxf4,Qxf4,Nf6,O-O-O,Bd6,Ne5,Qc7,Ne4,Nxe4,Qxe4,c5,f4,Rc8,dxc5,Bxe5,Qxe5,Qxe5,fxe5,Rxc5,Rd6,Rxe5,Rhd1,O-O,Rd7,Rb8,Rc7,Rf5,Rdd7,Rf2,b3,Rxg2,Rxf7,Kh7,Rxg7+,Kh6,Rge7,Rg3,Rxe6,Rxh3,Ree7,g5', 'Rh7+,Kg6,Rxh3', 'https://lichess.org/training/Gaq4g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GAqUv', 'Rapid', 'SanjiroJovan34', 1821, 'Nwab', 2002, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,fxe4,dxe4,Nf6,Bg5,Bc5,O-O,d6,Bc4,Bg4,Nbd2,Qd7,h3,Bh5,Qe1,O-O-O,a3,Rdf8,b4,Bb6,c3,h6,Be3,g5,Bxb6,axb6,a4,g4,hxg4,Qxg4,Qe3,Rhg8,g3,Rg7,b5,Na5,Ba2,Nxe4,Qxh6,Nxf2', 'Be6+,Qxe6,Qxe6+', 'https://lichess.org/training/GAqUv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GAsfv', 'Rapid', 'Disposer', 1651, 'ZhardembeKKK', 1628, 'd4,d5,e3,Nc6,Bd3,e5,dxe5,Nxe5,Nf3,Bd6,Nxe5,Bxe5,O-O,Nf6,Nd2,O-O,Nf3,Bd6,b3,c5,Bb2,Re8,c4,d4,exd4,cxd4,Nxd4,Be5,Bc2,Qd6,g3,Rd8,Nf3', 'Bxb2,Qxd6,Rxd6', 'https://lichess.org/training/GAsfv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GaTF3', 'Rapid', 'rememberchess', 1609, 'joony375', 1639, 'e4,e5,Nc3,Nf6,Bc4,Bb4,d3,Bxc3+,bxc3,d5,exd5,Nxd5,Qh5,Be6,Qxe5,Nc6,Qxg7,Qf6,Qxf6,Nxf6,Bxe6,fxe6,Be3,Ng4,Bf4,e5,Bg3,O-O,f3,Ne3,Kd2,Nxg2,Rb1,b6,Rb5,a6,Rb4,Nxb4,cxb4,Rad8,Bxe5,Rfe8,Bg3,Ne3,Bxc7,Rd4,Bxb6,Nc4+,Kc3,Nxb6,Kxd4,Re1,Kc3,h5,Kd2,Ra1,h4,Nd5,Ke2,Nxb4,Kd2,Rxa2,Ne2,Rxc2+,Ke3,Nd5+,Kf2,Nf4,Re1', 'Nxd3+,Kf1,Nxe1', 'https://lichess.org/training/GaTF3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GaU7N', 'Rapid', 'GreenJoker', 1609, 'ScaredMartin', 1675, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,Nxe4,Nxc6,Nxc3,Nxd8,Nxd1,Rxd1,Kxd8,c3,d6,Bxf7,Rf8,Bb3,Bf5,Bg5,Bf6,Bh6,Re8,Bf7,Rh8,Be3,e6,Rxd6+,Ke7,Bc5,Kxf7,Rd7+,Ke8,Rxb7,h5,Rxa7,Rxa7,Bxa7,Rh7,Be3,Rb7,a4,Rxb2,a5,Bxc3,a6,Rb8,a7,Ra8,Rc1,Bb4,Rc7,Kd8,Rh7,Be7', 'Rh8+,Kd7,Rxa8', 'https://lichess.org/training/GaU7N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gAV1x', 'Blitz', 'Gamil_M', 1866, 'DaviAlmeida', 1936, 'd4,c5,d5,Nf6,c4,d6,Nc3,g6,e4,e6,Bg5,Bg7,Nf3,O-O,Bd3,Qb6,Qd2,Re8,O-O,h6,Bxh6,exd5,Bxg7,Kxg7,exd5,Nbd7,Rfe1,Rxe1+,Rxe1,Nf8,b3,Bg4,Qf4,N8d7,h3,Bxf3,Qxf3,Ne5,Qd1,Qa5,Qc2,Nxd3,Qxd3,Rh8,Re7,Qa3,Nb5,Qc1+,Kh2,Qf4+,Qg3', 'Ng4+,Kg1,Qc1+,Re1,Qxe1#', 'https://lichess.org/training/gAV1x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GaVnQ', 'Rapid', 'cpcg12345', 1724, 'janicnik', 1732, 'e4,e5,Nf3,d6,Bc4,Nc6,O-O,h6,Nc3,Nf6,b4,Bg4,b5,Nd4,Bxf7+,Kxf7,Nxe5+,dxe5,f3,Be6,f4,exf4,e5,Bg4,Qe1,Bc5,Kh1,Nxc2,Qh4,Ne4,Rxf4+,Kg8,Qxg4,Nf2+,Rxf2,Bxf2,e6,Nxa1,Ne4,Qd4,e7,Re8,Qe6+,Kh7,d3,Bh4,h3,Rxe7,Qf5+,g6,Qg4,Bg5,Bxg5,hxg5', 'Nxg5+,Kh6,Qxd4', 'https://lichess.org/training/GaVnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gavoj', 'Blitz', 'Sami-Houjairi', 2029, 'FM thestench', 2244, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Nc6,Nf3,Bg4,Bd3,Ndb4,Be2,Bxf3,Bxf3,Nxd4,O-O,Nxf3+,Qxf3,c6,Bf4,e6,Rad1,Nd5,Ne4,Qa5,c4,Nxf4,Qxf4,Be7,Nd6+,Bxd6,Qxd6,Rd8,Qg3,O-O,a3,Qa4,Rc1,g6,h4,h5,Qg5,Qb3,Qf6,Rd2,g4,Qh3,gxh5,Qg4+,Kh2,Qxh5,b4,Rfd8,Rc3,R8d4,Rh3,Rxc4,Kg3,Rg4+,Kh2,Rc4,Kg3,Rcc2,Rh2,Rd3+,Kg2,Rf3', 'Qxf3,Qxf3+,Kxf3', 'https://lichess.org/training/gavoj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gAWSg', 'Rapid', 'guillaumeg', 1800, 'graffitilogo', 1700, 'e4,c5,Nc3,a6,f4,e6,Nf3,Nc6,d3,Bd6,h3,Nge7,g4,Qc7,Qd2,Ng6,e5,Be7,Bg2,Nd4,Nxd4,cxd4,Ne2,Bh4+,Kd1,Bf2,Qb4,Be3,Bxe3,dxe3,Qe4,Nh4,Bf1,Qc6,Nc3,O-O,Qxc6,bxc6,Ke2,Bb7,Kxe3,c5,Rg1,Nf3,Rg3,Nd4,Bg2', 'Nxc2+,Kd2,Nxa1,Bxb7,Rab8', 'https://lichess.org/training/gAWSg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gaX25', 'Rapid', 'Gafurds', 2014, 'Maxmen', 1721, 'Nf3,c6,e3,d5,b3,Nf6,Bb2,e6,Be2,g6,d3,Bg7,Nbd2,Nbd7,O-O,O-O,Ba3,Re8,d4,Qc7,Rc1,c5,dxc5,Nxc5,Bb2,b6,Be5,Qd7,a4,Bb7,Bb5,Bc6,Bxc6,Qxc6,Nd4,Qd7,N2f3,Nce4,Nd2,Nc3,Qf3,Nce4,Nxe4,Nxe4,Bxg7,Kxg7,c4,Nf6,cxd5,Nxd5,Rfd1,Rac8,Ne2,Rxc1,Rxc1,Rc8,Rd1,Qe7,e4,Nf6,e5,Nd5,Nf4,Nxf4,Qxf4,Rd8', 'Qf6+,Qxf6,exf6+,Kxf6,Rxd8', 'https://lichess.org/training/gaX25');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GaXNA', 'Blitz', 'Knight04', 1896, 'Fanur90', 1916, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,c3,dxc3,Qd5,Qe7,Nxc3,Nf6,Qd3,Nb4,Qe2,d6,O-O,Be6,Bxe6,fxe6,a3,Nc6,b4,a6,Bf4,Nh5,Be3,g5,Nd4,Nxd4', 'Qxh5+,Qf7,Qxf7+,Kxf7,Bxd4', 'https://lichess.org/training/GaXNA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gAZ0n', 'Blitz', 'bconrad217', 1782, 'four_cents', 1768, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,Nc6,Nf3,O-O,Bg5,d5,e3,h6,Bxf6,Qxf6,cxd5,exd5,Be2,Bxc3+,bxc3,Re8,O-O,Bf5,Qb3,Be4,Qxb7,Reb8,Qxc7,Rb2,Bd1,Rab8,Ne5,Nxe5,dxe5,Qg5,g3,Qf5,f4,Qh3,Rf2,Rxf2', 'Qxb8+,Kh7,Kxf2,Qxh2+,Ke1', 'https://lichess.org/training/gAZ0n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GAZ3n', 'Rapid', 'Nurgaliyev_Sauat', 2172, 'DasCham', 1919, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e6,Be3,Nbd7,Qd2,Be7,g4,Ne5,O-O-O,b5,g5,Nfd7,f4,Nc4,Bxc4,bxc4,Nc6,Qc7,Nxe7,Kxe7,Qd4,Qc5,Qxc5,Nxc5,e5,Nb7,exd6+,Nxd6,Bc5,Rd8,Ne4,Bb7,Nxd6,Bxh1,Nf5+,Ke8', 'Nxg7#', 'https://lichess.org/training/GAZ3n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GAz8V', 'Classical', 'bambinor12', 1876, 'ranmaru2103', 1941, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,d4,exd4,Qxd4,f6,e5,fxe5,Nxe5,c5,Qd5,Qf6,Re1,Ne7,Nf3,c6,Qg5,Bf5,Qxf6,gxf6,c3,Bg4,Nbd2,Rg8,g3,Kd7,Kg2,f5,Ne5+,Kc7,Ndc4,Nd5,Nf7,Be7,Rxe7+,Nxe7,Bf4+,Kd7,f3,Ke6,Ng5+,Kf6,Nxh7+,Kg6,Re1,Bxf3+,Kxf3,Nd5,Ng5,Rae8,Ne5+,Kh5,h3,Nxf4,gxf4,Kh4,Rd1,Rd8,Re1,Rd2,Re2,Rxe2,Kxe2,Kg3,Ngf3,Kxh3,Ke3,Rg2,Nd2,Kg3,a4,Rf2,Nef3,b5,b3,c4,bxc4,bxa4,c5,a3,Nd4,Rxf4', 'Ne2+,Kg4,Nxf4,a2,Nb3', 'https://lichess.org/training/GAz8V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gAzBI', 'Rapid', 'Zniter', 1886, 'St-Chris', 1680, 'e4,e5,f4,exf4,Nf3,g5,Bc4,Bg7,O-O,h6,d4,d6,Nc3,Nc6,d5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Ne7,Rb1,O-O,Bd2,Nc4,Bb3,Ba6,Re1,Nxd2,Qxd2,Qb6+,Kh1,Rad8,Rbd1,Bb7,Na4,Qc7,c4,Qd7,e5,d5,Nc5,Qc7,Nxb7,Qxb7,cxd5,cxd5,Nd4,a6,e6,Bxd4,exf7+,Kxf7,Qxd4,Kg8,Re6,Nf5,Qe5,Ne3,Rc1,Rf5,Rg6+,Kh7,Rc7+,Rd7,Rxb7', 'Rxe5,Rxd7+,Kxg6', 'https://lichess.org/training/gAzBI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gAZLm', 'Rapid', 'IrfannEmRe', 1710, 'vkhv', 1637, 'e4,e6,Nf3,d5,e5,Ne7,d4,c5,dxc5,Ng6,Bb5+,Bd7,a4,Qc7,Qd4,Bxc5,Qc3,Bxb5,Be3,Bb6,Bxb6,Qxb6,Qc8+,Qd8,Qxd8+,Kxd8,axb5,Nd7,O-O,Ngxe5,Nxe5,Nxe5,b6,a6,h3,Nc4,Rd1,Nxb6,b3,Ke7,Nd2,Rac8,Ra2,Rhd8,Re1,f6,Nf3,Nd7,Nd4,e5,Nf5+,Kf7,Nd6+,Ke7,Nxc8+,Rxc8,Kh2,d4,Re4,Nc5,Re1,Kf7,b4,Ne6,g3,Rc4,Rb1,Ng5,b5,axb5,Rxb5,Ne4,Rxb7+,Kg6,Kg2,h5,h4,Nc5,Rb1,Ne4,f3', 'Nc3,Rbb2,Nxa2', 'https://lichess.org/training/gAZLm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GazY1', 'Rapid', 'laugan', 1640, 'partha_kisor', 1641, 'Nf3,d5,d4,Bf5,Bf4,e6,e3,f6,c4,h5,h3,g5,Bh2,g4,hxg4,hxg4,Nfd2,g3,fxg3,Qd6,a3', 'Rxh2,Rxh2,Qxg3+', 'https://lichess.org/training/GazY1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gb0Bt', 'Rapid', 'oranjechess', 2194, 'zihi', 2130, 'd4,Nf6,Nc3,d5,e4,Nxe4,Nxe4,dxe4,Be3,g6,f3,exf3,Nxf3,Bg7,Qd2,O-O,O-O-O,Bg4,Be2,Nd7,h3,Bxf3,Bxf3,c6,h4,Nb6,h5,Nc4,Qd3,Nxe3,Qxe3,Qa5,Kb1,e5,hxg6,exd4,gxf7+,Rxf7,Qb3,Qb6,Be4,Qxb3,Bxh7+,Kf8,axb3,Ke7,g4,Kd7,Bf5+,Kc7,Rde1,a5,Rh7,Raf8,Re6,Bf6', 'Rxf6,Rxh7,Rxf8', 'https://lichess.org/training/gb0Bt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GB0cJ', 'Rapid', 'PeonPoisoned', 1778, 'elevatorman', 1754, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bg4,Be2,e6,h3,Bh5,d3,Be7,O-O,Nf6,Ng3,Bg6,b3,Qc7,Bb2,O-O,Nd2,Nbd7,Re1,Bd6,Ngf1,Rfe8,Nc4,Bf8,Qd2,b5,Nce3,Nd5,Rac1,e5,c4,Bb4', 'Nxd5,cxd5,Qxb4', 'https://lichess.org/training/GB0cJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gb0Hl', 'Rapid', 'Abdullah1991', 2052, 'charon7', 2079, 'e4,e5,Nf3,Nc6,Bc4,Be7,b4,Bxb4,c3,Be7,O-O,Nf6,d4,d6,Re1,Bg4,h3,Bxf3,Qxf3,exd4,Ba3,Ne5,Qe2,dxc3,Bb3,O-O,Nxc3,c5,f4,Nc6,Rad1,Qb6,Kh1,Nd4,Qd3,Nxb3,axb3,Qxb3,Bc1,a6,e5,c4,Qd4,dxe5,fxe5,Rad8,Qe3,Rxd1,Rxd1,Nd5,Rxd5,b5,e6,b4,Nd1,c3,Rd7,fxe6,Rxe7', 'Qxd1+,Kh2,Qd6+', 'https://lichess.org/training/gb0Hl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gB2DK', 'Rapid', 'svmalnev', 1687, 'lucas_be17', 1696, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,h6,Nc3,O-O,h3,d6,a3,a6,Be3,Bxe3,fxe3,Be6,Bb3,Bxb3,cxb3,Na5,b4,Nc6,Nd5,Nxd5,exd5,Ne7,e4,Ng6,Qc1,Qd7,a4,Nf4,Qd2,c6,dxc6,bxc6,a5,Rab8,Nh4,g6,Rac1,Qb7,Rxf4,exf4,Qxf4,Kg7,Qxd6,Qxb4,Qe5+,Kh7,Nf3,Qxb2,Qxb2,Rxb2,Rxc6,Ra8,Ne5,Ra2,Nxf7,Rxa5,Rc7,Kg8,Nxh6+,Kf8,Rf7+,Ke8,Rf3,Ra3,Nf7,Kd7,Ne5+,Kd6', 'Nc4+,Kc5,Nxa3', 'https://lichess.org/training/gB2DK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GB41R', 'Bullet', 'ko-bros', 1754, 'egon_hubert', 1754, 'b3,d5,Bb2,c5,f4,Nc6,Nf3,Bf5,e3,h6,Be2,Nf6,O-O,e6,Nc3,a6,d3,b5,a4,b4,Na2,a5,Nc1,Bd6,Ne5,Bxe5,fxe5,Nd7,d4,Rc8,Nd3,c4,bxc4,dxc4,Nf4,c3,Bc1,O-O,Bd3,Bxd3,Qxd3,Nb6,Rf3,Ne7,Rg3,Qd7', 'Rxg7+,Kxg7,Nh5+,Kh8,Nf6', 'https://lichess.org/training/GB41R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gb4r0', 'Rapid', 'jujugaga', 1838, 'Titanik14', 1908, 'd4,d5,Bf4,c6,e3,Qb6,b3,Bf5,Nd2,a5,Ngf3,f6,Nh4,e6,Nxf5,exf5,Bd3,g6,O-O,Bb4,a3,Bxd2,Qxd2,Ne7,Rab1,Nd7,c4,Kf7,c5,Qd8,b4,axb4,axb4,Ra3,Be2,Qa8,Qb2,Ra2,Ra1', 'Rxb2,Rxa8,Rxa8', 'https://lichess.org/training/gb4r0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gb63E', 'Rapid', 'caturyuk', 1617, 'sanjubaba420', 1600, 'e4,e5,Qf3,Nc6,Qg3,Nd4,Qxe5+,Ne6,d4,Bd6,Qd5,Nf6,Qc4,Nxe4,f3,Nf6,d5,b5,Qxb5,Nd4,Qc4,Be5,f4,Bxf4,Bxf4,Qe7+,Be2,c5,dxc6,Ba6,Qxa6,Nxc2+,Kf2,Ng4+,Bxg4', 'Qe1+,Kf3,Nd4#', 'https://lichess.org/training/Gb63E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gb6ho', 'Rapid', 'mrmont', 1771, 'Ahmed_Harwn', 1872, 'e4,c5,Bc4,a6,d3,Nc6,Nc3,b5,Bb3,e6,Be3,Qa5,Qh5,Nf6,Qg5,h6,Qh4,Nd4,Ne2,Nxb3,cxb3,Be7,Bg5,Bb7,O-O,O-O-O,Bxf6,gxf6,Qh5,Rh7,Qh4,Rg8,Nf4,h5,f3,Qd8,Nce2,f5,Qh3,fxe4,dxe4,h4,Rac1,Kb8,a4,b4,Rfd1,Bc6,Nd3,Qb6,Ne5,d6,Nxc6+,Qxc6,Rc4,Rhg7,Nf4,Bg5,Nh5,Rg6,g4,hxg3,hxg3,Be3+,Kf1,Rh6,g4,Bf4,Kf2,Be5,Rd2,Kc7,Rdc2,Rgh8,Ke3,f5,exf5,exf5,Qh4,Bf6,Qg3,fxg4', 'Rxc5,Qxc5+,Rxc5+', 'https://lichess.org/training/Gb6ho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gB6nq', 'Rapid', 'JoJack', 1999, 'Maleolus', 1699, 'd4,Nf6,Nc3,g6,e4,d6,f4,Bg7,Nf3,O-O,e5,dxe5,fxe5,Nd5,Bc4,Nxc3,bxc3,e6,O-O,Nd7,Bg5,Qe8,Qd2,Nb6,Bb3,Nd5,c4,Ne7,Bf6,h6,c3,b6,Rad1,Bb7,d5,Rd8,Qc2,exd5,cxd5,Bxf6,exf6,Nxd5,Rde1,Qc6,Bxd5,Rxd5,Nh4,Rg5,Nf3,Qxf6,Nxg5,Qxg5,Rf2,c5,Ref1,Bd5,c4,Be6,Qa4,Qe7,Qc6,Kg7,Qf3,Bxc4', 'Qc3+,f6,Qxc4', 'https://lichess.org/training/gB6nq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GbAIl', 'Rapid', 'Moronihah', 1890, 'terencetao', 1861, 'e4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Bd6,Ne2,O-O,O-O,Nd7,d4,a6,h3,b5,Bd3,Bb7,f4,Nb6,Ng3,Nd5,Nf5,g6,Qg4,Kh8,Qh4,Ne7', 'Qxf6+,Kg8,Nh6#', 'https://lichess.org/training/GbAIl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gBAJL', 'Classical', 'esedesed', 2207, 'Springeropfer65', 2131, 'Nf3,Nc6,d4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Bd3,dxc4,Bxc4,b6,Rc1,Bb7,O-O,Rc8,Qe2,Nd5,Bxe7,Ncxe7,e4,Nxc3,Rxc3,c5,Rd1,cxd4,Nxd4,Qe8,Nb5,Rc5,b4,Rxc4,Rxc4,Ba6,a4,Bxb5,axb5,Qxb5,Rc8,Qxe2', 'Rxf8+,Kxf8,Rd8#', 'https://lichess.org/training/gBAJL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBaPz', 'Classical', 'Questdog', 1887, 'pordil', 1629, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,Bb4,Nd6+,Bxd6,Qxd6,Qe7,Qxe7+,Nxe7,Bg5,a6,Bxf6,gxf6,Nd5,Nxd5,exd5,b5,O-O-O,Bb7,Be2,O-O-O,g3,Kb8,Bh5,Rhf8,Rhe1,d6,Re3,f5,a4,f4,gxf4,exf4,Rf3,bxa4,Rxf4,a3,bxa3,Rd7,Re4,Rc7,c4,f5,Rf4,Rfc8,Rdd4,a5,Be2,Ba6,Kd2,Rb7,Kc2,a4,Rf3,Re8,Bf1,Re1,Rd1', 'Rxd1,Kxd1,Rb1+,Kd2,Rxf1', 'https://lichess.org/training/GBaPz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBbmq', 'Rapid', 'TheClouds', 2017, 'rudaksa', 2131, 'c4,c5,Nf3,Nc6,e3,e5,Be2,e4,Ng1,Nf6,d3,d6,Nc3,Bf5,dxe4,Nxe4,Nxe4,Bxe4,Nf3,Be7,Bd3,Bxd3,Qxd3,O-O,b3,Bf6,Rb1,Nb4,Qe2,Qa5,O-O,Nxa2,Bb2,Bxb2,Qxb2,Nb4,Rfd1,Qc7,Qd2,Rfd8,h4,h6,e4,Qe7,Qf4,a5,e5,dxe5,Nxe5,Nc6,Nxc6,bxc6,Re1,Qd6', 'Re8+,Rxe8,Qxd6', 'https://lichess.org/training/GBbmq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBbZ6', 'Rapid', 'suherman_baron', 1844, 'pepitoperes', 1904, 'e4,e5,Nf3,d6,Bc4,Be7,h3,Nf6,Ng5,O-O,c3,d5,exd5,Nxd5,Qf3,Bxg5,Bxd5,c6,Be4,Na6,O-O,Nc5,Bc2,Re8,Qg3,Bf4,Qf3,Be6,b4,Bd5,Qh5,g6,Qe2,Nd7,Be4,Be6,d3,Bxc1,Rxc1,Nf6,Nd2,Nxe4,Nxe4,b6,Qf3,Bd5,Rd1,Bxe4,dxe4,Qc7,Rd3,a5,Rad1,axb4', 'Rd7,Qxd7,Rxd7', 'https://lichess.org/training/GBbZ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gBcdZ', 'Blitz', 'paximi', 2100, 'Grandmagesh07', 2100, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Nf6,Bg5,Be7,Bxf6,gxf6,Nd5,Be6,c4,Rc8,Bd3,Rg8,O-O,Bh3,Qf3,Rxg2+,Kh1,Qd7,Nb6,Qg4,Qxg4,Rxg4,Nxc8,Bg2+,Kg1,Nd4,f3,Bxf3+,Kf2,Bd8,Nxd6+,Kd7,Nf5,Rg2+,Ke1', 'Ba5+,b4,Bxb4#', 'https://lichess.org/training/gBcdZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gbevo', 'Classical', 'im4y', 1698, 'maksvv100', 1922, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Be6,Be3,Bxd5,Qxd5,Rc8,c4,Nf6,Qd2,Nxe4,Qc2,Qa5+,Bd2,Nxd2,Qxd2,Qxd2+,Kxd2,b4,Nc2,a5,b3,Be7,a3,Bg5+,Ke1,Rb8,axb4,Nxb4,Nxb4,axb4,Ra6,Ke7,Bd3,g6,h4,Bf6,g3,Rhd8,Be4,Bg7,Bc6,f5,Ra7+,Kf6,Ke2,e4,g4,h6,g5+,hxg5,hxg5+,Kxg5,Rxg7,Kf6,Rhh7,Rb6,Rf7+,Kg5,Bd5,Ra6,Rb7,Ra2+,Ke3,Re8,Rh2', 'f4+,Kd4,Rd2#', 'https://lichess.org/training/Gbevo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gBfiK', 'Rapid', 'Schoon', 1608, 'Repsej', 1694, 'c4,e5,Nc3,Nc6,Nf3,Nf6,d3,Bb4,a3,Ba5,b4,Bb6,c5,Bxc5,bxc5,Qe7,e3,Qxc5,Bd2,d5,Na4,Qe7,Be2,Bf5,O-O,O-O-O,d4,e4,Nh4,Be6,Nc5,g5,Qb3,b6,Na6,gxh4,a4,Kd7,Bb5,Qd6,Bb4,Qxh2+,Kxh2,Ng4+,Kg1,h3,g3,h5,Rfc1,h2+,Kg2,h4,Bxc6+,Kc8,Bxd5,h3+,Kf1', 'h1=Q+,Ke2,Qf3+', 'https://lichess.org/training/gBfiK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBG93', 'Rapid', 'jores', 1880, 'Hakeemo', 1825, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,Bd3,Bxd3,Qxd3,e6,Bg5,Nbd7,O-O,Be7,Rfe1,O-O,Rad1,Qb6,b3,h6,Bxf6,Nxf6,c4,Rad8,Nf5,Bb4,Nxh6+,gxh6,Re5,c5,Qe3,Kh7,Ng5+,hxg5,Rxg5,Rg8', 'Qh3+,Nh5,Qxh5#', 'https://lichess.org/training/GBG93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gbgdF', 'Rapid', 'Nmaksimkin', 1718, 'EK63', 1649, 'e4,e6,Nf3,c6,d4,Qb6,Nc3,Bb4,Bd3,d5,e5,c5,dxc5,Qxc5,a3,Bxc3+,bxc3,Qxc3+,Bd2,Qc6,a4,Bd7,Bb5,Qc7,Bxd7+,Nxd7,O-O,Nxe5,Nxe5,Qxe5,f4,Qd4+,Kh1,Ne7,c3,Qf6,a5,O-O,a6,b6,Be3,Nc6,Qa4,Na5,Bd4,Qe7,Qd1,Nc4,Qg4,f6,Rfe1,e5,fxe5,fxe5,Bg1,Rf4,Qg3,Na3,Rxa3,Qxa3,Rxe5,Raf8,h3,Qxa6,Bd4,Qf1+,Kh2,R4f6,Re1,Rg6', 'Rxf1,Rxg3,Rxf8+,Kxf8,Kxg3', 'https://lichess.org/training/gbgdF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gBHq5', 'Classical', 'ptr81', 1682, 'AllUsernamesWasTaken', 1739, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Qf3,h6,Bd2,O-O,Bc4,Nxe4', 'Nxe4,Bxd2+,Nxd2', 'https://lichess.org/training/gBHq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBHvC', 'Classical', 'Luciano1800', 1881, 'tatlisumak', 1846, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e4,d6,Be2,Bg4,O-O,Bxf3,Bxf3,e5,d5,a5,a4,Na6,Bd2,h6,Re1,Nd7,Nb5,b6,Qc1,Kh7,Be3,f5,exf5,gxf5,Be2,f4,Bd3+,Kh8,Bd2,Qg5,Nc3,Ndc5,Bf1,Qg6,Qd1,f3,g3,e4,Be3,Rae8,Qc2,h5,Nb5,Rf7,Nd4,h4,Ne6,Nxe6,dxe6,Rxe6,c5,Nxc5,Bxc5,bxc5,Bc4,hxg3,hxg3,Rfe7,Bxe6,Rxe6,Ra3,Qg4,Qc4,Rh6,Qxe4', 'Rh1+,Kxh1,Qh3+,Kg1,Qg2#', 'https://lichess.org/training/GBHvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBhyO', 'Classical', 'TheeDogg', 1697, 'asamiller', 1756, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Nxc6,bxc6,Bf4,d6,Bc4,Nf6,Qd2,Rb8,Bh6,Nxe4', 'Nxe4,Bxh6,Qxh6', 'https://lichess.org/training/GBhyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBiDI', 'Classical', 'ron51', 1727, 'shaadi-com', 1791, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,g6,Be2,Bg7,O-O,cxd4,Nxd4,Qb6,Nxe6', 'Qxe3+,Kh1,fxe6', 'https://lichess.org/training/GBiDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gBIvC', 'Rapid', 'Steel_Forge57', 1684, 'Marbun', 1689, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,e6,b3,Bd6,Bb2,O-O,O-O,a6,Nc3,c6,Nxd5,cxd5,Bd3,f6,Nh4,Qe8,Qg4,Rf7,Bxh7+,Kxh7,Qh5+,Kg8,Ng6,Rc7,Bxf6,Bxh2+,Kxh2,gxf6', 'Qh8+,Kf7,Qh7#', 'https://lichess.org/training/gBIvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GbJ67', 'Rapid', 'kam49', 1911, 'StGr', 1871, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Be2,e6,O-O,Be7,c4,O-O,c5,b6,b4,a5,Bd2,Ne4,a3,Nxd2,Nbxd2,axb4,axb4,Rxa1,Qxa1,bxc5,bxc5,Nc6,Bb5,Bd7,Rb1,Qc7,Qc3,Rb8,Bxc6,Rxb1+,Nxb1,Bxc6,Na3,f6,Nc2,Qa7,h3,Qa4,Nb4,Kf7,Nxc6,Qxc6,Nd2,e5,dxe5,Bxc5,exf6', 'Bxf2+,Kxf2,Qxc3', 'https://lichess.org/training/GbJ67');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBjry', 'Rapid', 'jogador515', 1946, 'alex484', 1914, 'e4,e6,Nf3,Nf6,Nc3,Bb4,Bc4,Bxc3,e5,Bxd2+,Bxd2,Ne4,Bb4,c5,Ba3,b6,b4,b5,Bxb5,Nc3,Qd3,Nxb5,Qxb5,cxb4,Bxb4,Nc6,Bd6,Qa5+,Qxa5,Nxa5,Nd2,Ba6,Ne4,Nc4,Bb4,Rb8,Nd6+,Nxd6,Bxd6,Rb2,Rc1,f6,a3,fxe5,Bxe5,O-O,Bxb2,Rf4,Be5,Re4+,Kd2,Rxe5,f4,Re2+,Kc3,Rxg2,Rcd1,d5,Rde1,Kf7,h3,Rg3+,Kb4,Bc4,Kc5,Rxa3,Ra1,Rc3,Rxa7+,Kf6,Kd4,Rxc2,Rg1,Rd2+,Kc3,Rd3+,Kc2,Rxh3,Rgxg7,Rf3,Rxh7', 'Bd3+,Kd2,Bxh7', 'https://lichess.org/training/GBjry');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBJSV', 'Rapid', 'magicaner', 1886, 'SemenS', 1758, 'd4,d5,c4,Nf6,c5,e6,a3,Qd7,Bf4,Nc6,e3,Qe7,Bb5,Bd7,h3,e5,dxe5,Nxe5,Bxd7+,Kxd7,b4,c6,Ne2,Qe6,Nd4,Qe7,O-O,g6,Nc3,Bg7,Na4,Nh5,Bh2,Rhd8,Nb2,Ke8,Qc2,Kf8,Nd3,Nxd3,Qxd3,Bxd4,exd4,Kg8,Rfe1,Qf6,Be5,Qg5,Bd6,Nf4,Qf3,Ne6,Be5,Re8,Bf6,Qd2,Rad1,Nxd4,Rxe8+,Rxe8,Bxd4,Qg5,Qf6,Qxf6,Bxf6,Re6,Bc3,f5,a4,Kf7,b5,Re4,bxc6,bxc6,a5,Rc4,Bd4,Ra4,Ra1,Rxd4,Rb1,Kg7,Rb7+,Kh6,Rxa7,Rc4,Rb7,Rxc5,a6,Ra5,a7,d4,Kf1,Ra1+,Ke2,c5,Kd3,Ra3+,Kc4,d3,Kxc5,d2,Rd7,Ra2,Kb6,Rb2+,Ka6,Ra2+,Kb7,Rb2+,Kc8,Ra2,Kb8,Rb2+,Kc8,Ra2,Kd8,Kg5,Ke7', 'Rxa7,Rxa7,d1=Q', 'https://lichess.org/training/GBJSV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gBkfj', 'Rapid', 'DrHOTTAB', 1625, 'Sercanx_x', 1789, 'e4,d6,d4,Nf6,Nc3,g6,Be3,Bg7,Qd2,O-O,Bh6,Nc6,Bxg7,Kxg7,Nf3,e5,d5,Ne7,O-O-O,a5,a3,b6,h4,Ba6,Bxa6,Rxa6,Rhg1,c6,g4,b5,h5,b4,Qg5,bxc3', 'h6+,Kg8,Qxf6', 'https://lichess.org/training/gBkfj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GbkHu', 'Rapid', 'Sid1910', 2003, 'Caio_Moreira', 2024, 'd4,d5,Bf4,Nc6,e3,Bf5,c3,e6,Nd2,Bd6,Bg3,Nf6,Ngf3,a6,a3,O-O,Ne5,Nh5,f4,Nf6,Ndf3,Bxe5,Nxe5,Nxe5,fxe5,Ng4,Bf4,f6,h3,fxe5', 'hxg4,exf4,gxf5', 'https://lichess.org/training/GbkHu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBLT1', 'Rapid', 'tomviso', 1809, 'Batabat2009', 1725, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,c4,Nf6,c5,Be7,Nc3,c6,Bd3,O-O,h4,Bg4,Be2,Bxf3,Bxf3,Na6,a3,Nc7,h5,h6,Be3,Nh7,Be2,Re8,Qc2,Bg5,Bd3,Bxe3', 'Bxh7+,Kh8,fxe3', 'https://lichess.org/training/GBLT1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gBnp6', 'Rapid', 'muhammadahmed', 1864, 'dzaniplays15', 1824, 'd4,Nf6,Nf3,e6,Nc3,d5,Bf4,b6,e3,Bb7,Bb5+,c6,Bd3,Bd6,Ne5,Nbd7,O-O,O-O,Qf3,Ne8,Qh3,g6,Bh6,Ng7,f4,Nxe5,fxe5,Be7,Ne2,Bg5,Rf3,Bxh6,Qxh6,Nf5,Qf4,Qh4,g4', 'g5,gxf5,gxf4', 'https://lichess.org/training/gBnp6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gBntm', 'Blitz', 'Cepreu4', 2139, 'BMWX5', 1994, 'e4,e5,Nf3,Bc5,c3,Bxf2+,Kxf2,Nf6,d3,c6,h3,Qb6+,Be3,Qxb2+,Nbd2,Qxc3,Rc1,Qa5,Qb3,O-O,Nc4,Qc7,Bc5,d5,Ncxe5,dxe4,dxe4,Nxe4+,Ke3,Nxc5,Rxc5,Be6,Bc4,Na6,Bxe6,Nxc5,Bxf7+,Kh8,Qc4,b6', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/gBntm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gbou2', 'Blitz', 'nikthebeast', 2274, 'boung', 2234, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,Bg5,d6,Nbd2,h6,Bh4,g5,Bg3,Be6,Bb5,a6,Ba4,b5,Bc2,Nh5,Nf1,Nf4,Ne3,Bxe3,fxe3,Nxg2+,Kf2,Nf4,exf4,gxf4,Bh4,Qb8,Bf6,Qb6+,Ke2', 'Qe3+,Kf1,Bh3#', 'https://lichess.org/training/gbou2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gbpgI', 'Blitz', 'desmondhume23', 1694, 'M7MDSa3D', 1716, 'c4,e6,Nc3,g6,g3,Bg7,Bg2,c6,e4,d5,cxd5,exd5,exd5,cxd5,Nxd5,Nc6,Nc3,Bf5,Nge2,Nf6,O-O,O-O,Re1,Re8,Rb1,Bxb1,Nxb1,Qa5,Qb3,Rab8,Nec3,Nd4,Rxe8+,Rxe8,Qd1,h5,d3,Ng4,h3,Ne5,Be3,Nf5,Bf4,Rd8,g4,hxg4,hxg4,Nh6,g5,Nf5,Bf1,Qb6,Ne4,Ng4,Qxg4,Qxb2,Nbd2,Qxa2,Nf6+,Bxf6,gxf6,b5,Bh3,Rd4,Qg3,Rxf4,Bxf5,Qxd2,Bxg6,fxg6', 'Qxg6+,Kf8,Qg7+,Ke8,Qe7#', 'https://lichess.org/training/gbpgI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gBqVh', 'Blitz', 'Mike_nramos', 1896, 'LM TonyRo', 2172, 'c4,Nf6,d4,g6,Nc3,Bg7,e4,d6,Bd3,O-O,Nge2,Nc6,f3,Nh5,g4,Nf6,Be3,e5,d5,Nd4,Nxd4,Bxg4,fxg4,exd4,Bxd4,Nxg4,Bxg7,Qh4+,Kd2,Qg5+,Kc2', 'Ne3+,Kb3,Nxd1,Raxd1,Kxg7', 'https://lichess.org/training/gBqVh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gbrNV', 'Rapid', 'Estolog', 2160, 'FurkanKHAS', 2151, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Bg5,h6,Nxc6,bxc6,Bxf6,Qxf6,Nc3,Bb4,Qd3,Ba6,Qg3,Bxf1,Rxf1,O-O,O-O-O,d6,Rd3,Rfe8,f3,Bxc3,Rxc3,c5,Rd1,Rab8,Rd5,Rb7,e5,Qe6,Rcd3,Reb8,exd6,cxd6,Qxd6,Qe1+,Rd1,Qe3+,Kb1,Rxb2+,Ka1,Rb1+,Rxb1', 'Qc3+,Rb2,Qxb2#', 'https://lichess.org/training/gbrNV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gbsj1', 'Rapid', 'Stornoway', 1681, 'Superchero', 1626, 'e4,e6,Nf3,Ne7,d4,h6,Nc3,b6,Bc4,Bb7,O-O,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,Re1,Be7,Re5,Qc6,Qe2,O-O,Re3,Nd7,Rc3,Qd5,Rxc7,Rfd8,Ne5,Nxe5,Qxe5,Qxd4,Qxd4,Rxd4,Be3,Bd6,Rc3,Rd5,Rd3,Rxd3,cxd3,Be5,d4,Bf6,f4,Rd8,Rd1,g5,g3,Kg7,Kf2,gxf4,gxf4,Bh4+,Kf3,f5,Bf2,Bf6,b3,e5,fxe5,Bxe5,h3,Kg6', 'Rg1+,Kf7,dxe5', 'https://lichess.org/training/Gbsj1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBsOI', 'Rapid', 'krokodilia', 1789, 'sardorqodirov90', 1766, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,e6,d3,Bb4,Bd2,Nf6,Nf3,O-O,O-O,a6,a3,Bxc3,Bxc3,b5,Bb3,Bb7,Re1,Nd5,Bd2,Nd7,Bg5,Qe8,Qd2,N5f6,Ne5,Nxe5,Rxe5,Qc6,f3,Nd7,Re4,Qc5+,Be3,Qe7,Rg4,Nf6,Bg5,Qc5+,Be3,Qf5,Rg3,Kh8,Re1,Nd5,Bd4,Rg8,c4,bxc4,dxc4,Ne7,Re5,Qb1+,Kf2,Nf5,Rg4,Nxd4,Rxd4,Rab8,Rh5,Bxf3,gxf3,Rxb3,Rdh4,h6', 'Rxh6+,gxh6,Qxh6+,Qh7,Qxh7#', 'https://lichess.org/training/GBsOI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBsVj', 'Rapid', 'soca5', 1676, 'jp62', 1884, 'd4,d5,c4,c5,cxd5,Qxd5,Nf3,cxd4,Nc3,Qa5,Nxd4,Nd7,Bd2,e5,Nb3,Qd8,e3,a6,Bc4,Nb6,Be2,Nf6,Qc2,Bb4,O-O-O,Qc7,f4,exf4,exf4,O-O,Bd3,Bg4,Rde1,Rfe8,h3,Bd7,g4,Na4,g5,Nxc3,bxc3,Ba3+,Kb1,Nd5,Bxh7+,Kh8,g6,fxg6,Bxg6,Rxe1+,Rxe1,Rf8,Re5,Nf6,Qd1,Ng8,Nd4', 'Qb6+,Nb3,Qxg6+', 'https://lichess.org/training/GBsVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gbtNE', 'Blitz', 'Crazyeye180', 1730, 'Hamim123', 1709, 'd4,e6,c4,b6,Nc3,Bb7,Bf4,Bb4,e3,Nf6,Nf3,Nh5,Be5,Nc6,Be2,Nxe5,Nxe5,Nf6,O-O,O-O,a3,Bd6,b4,Ne4,Nb5,a6,Nxd6,cxd6,Nf3,Nc3,Qd2,Nxe2+,Qxe2,Qf6,Rac1,Be4,Nd2,Bc6,f3,Rac8,Ne4,Bxe4,fxe4,Qg6,Qf3,Rb8,Qf4,d5,exd5,exd5,c5,bxc5,Rxc5,Qd3,Rxd5,Qxa3,Rxd7,Qxb4,Rxf7,a5,Qc7,Rxf7,Rxf7,Qe1+,Rf1,Qxe3+,Kh1,Re8', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/gbtNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GbtQd', 'Blitz', 'jaado2002', 1986, 'chessmaster3552', 1823, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,dxc4,a4,Nbd7,e3,e5,Bxc4,e4,Nd2,Bb4,Qc2,Bxc3,bxc3,O-O,Nxe4,Nxe4,Qxe4,Nf6,Qf4,Re8,O-O,Re4,Qg5,Be6,Bxe6,Rxe6,Ba3,Qd5,Qxd5,Nxd5,c4,Nb6,c5,Nxa4,Bb4,Nb2,Rab1,Nd3,Ba3,b5,Rb3,b4,Rxd3,bxa3,Rxa3,Re7,Ra6,Rc7,Rb1,Kf8,Rbb6,Rac8,Rb1,Ke7,Rba1,Ra8,f3,Ke6,Kf2,Kd5,Ke2,f5,Kd3,g5,e4+,fxe4+,fxe4+,Ke6,Rf1,Rb8,Kc4,Rb2,d5+,Ke5,d6,Rcb7,Ra4,Rxg2,h3,Rc2+,Kd3,Rxc5', 'Rf5+,Kxd6,Rd4+,Rd5,exd5', 'https://lichess.org/training/GbtQd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBTwN', 'Rapid', 'mahmut1661', 1911, 'Rockey0803', 1899, 'e4,c5,Nf3,Nc6,b3,a6,Bb2,e6,c4,b5,cxb5,axb5,Bxb5,Nf6,e5,Nd5,Nc3,Nxc3,dxc3,Bb7,O-O,Be7,a4,O-O,Ba3,Qc7,Qe2,Na7,Rad1,Rad8,Bd3,Nc6,Qe4,g6,h4,Nd4,Qg4,h5,Qg3,Nxf3+,gxf3,Qc6,Be2,d5,f4,Rfe8,Bxh5,d4,Kh2,Bxh4,Qg1,Kh7,Be2,Qe4,Bd3,Qxf4+,Kh3,Bg5,Qg3,Qxg3+,fxg3,dxc3', 'Rxf7+,Kg8,Rxb7', 'https://lichess.org/training/GBTwN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gbu2u', 'Rapid', 'Ole_kobra', 2055, 'kojiro963', 2056, 'e4,c6,h3,d5,e5,Bf5,d4,e6,Nf3,Nd7,c3,h6,Be3,a6,Be2,c5,O-O,cxd4,cxd4,Bb4,a3,Ba5,b4,Bb6,Nbd2,Ne7,Nb3,Rc8,Nc5,Rc7,Rc1,O-O,Qd2,Nc6,Nxd7,Qxd7,Nh4,Bh7,f4,Qe7,Nf3,Rfc8,Kh2,a5,b5,Nb8,Rxc7,Rxc7,Rc1,Qxa3,Rxc7,Bxc7,Bd1,b6,Bc2,Qe7,g4,Bxc2,Qxc2,Qd8,f5,Nd7,fxe6,fxe6,Qg6,Nf8,Qd3,Qd7,g5,hxg5,Nxg5,Bd8,h4,Qe8,Qe2,Qg6,Kg3,Qf5,Qh5,Nh7', 'Qe8+,Nf8,Qxd8', 'https://lichess.org/training/Gbu2u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gBU5Y', 'Rapid', 'MostafaMVL', 2036, 'urahara', 1883, 'd4,Nf6,Nf3,d5,g3,g6,Bg2,Bg7,O-O,O-O,c4,c6,Nc3,dxc4,Ne5,Ng4,Nxc4,Qxd4,Qxd4,Bxd4,h3,b5,Nd2,Nf6,Nxb5,Bb6,Nb3,Rd8,Bh6,Bxh3,Bxh3,cxb5,Bg2,Nd5,Rac1,Na6,Rfd1,e6,Bg5,Rdc8,a3,Rc4,Bxd5,exd5,Rxd5,Rxc1+,Bxc1,Rc8,Bh6,Rc2,Re5,Nc7,e3,Rxb2,Nc5,Rd2,Re7,Bxc5,Rxc7,Bb6,Re7,Rd8,Re5,a6,Kg2,Bc7,Re7,Bd6,Ra7,Bxa3,Rxa6,Be7,Ra7,Bd6,Rb7,b4,f4,Rb8,Rd7,Bf8,Bg5,Bg7,e4,b3,Rd1,b2,Rb1,Bc3,Bh6,Rd8,Kf3,Rd2,f5,Rc2,g4,Rc1', 'Bxc1,bxc1=B,Rxc1', 'https://lichess.org/training/gBU5Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gbuzs', 'Blitz', 'carlomario10', 2151, 'mohamed_3bdelkader', 2176, 'e4,Nc6,Bb5,d5,exd5,Qxd5,Bxc6+,Qxc6,Qf3,Bd7,Nc3,O-O-O,d4,Qg6,Nge2,Qxc2,Qxf7,Nf6,O-O,e6,Bg5,Qxb2,Bxf6,gxf6,Qxf6,Bd6,Rab1,Qd2,Rfd1,Qc2,Rdc1,Qg6,Qf3,Bc6,d5,Rhf8,Qh3,Bd7,dxe6,Bxe6,Qe3,Kb8,Nb5,b6,Nxd6,Rxd6,Nf4,Qf5,Nxe6,Qxe6,Qc3,Rf7,Re1,Qxa2,Ra1,Qxf2+,Kh1,Rd2,Re8+,Kb7', 'Rxa7+,Kxa7,Qa3+,Kb7,Qa8#', 'https://lichess.org/training/gbuzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GBvkW', 'Classical', 'CrayfishChess', 2080, 'Gambitov', 2010, 'c4,e6,g3,d5,Bg2,c6,Nf3,dxc4,O-O,Bd7,Qc2,b5,a4,Nf6,axb5,cxb5,Ne5,Nd5,Nc3,Nc6,Nxd5,exd5,Bxd5,Nxe5,Qe4,Bd6,f4,Qb6+,Kh1,O-O,fxe5,Rae8,Qf3,Rxe5,e4,Bc6,d4,cxd3,Bf4,Bxd5,Bxe5,Bxe5,exd5,Bxb2,Rae1,d2', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/GBvkW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GbW73', 'Rapid', 'SchliemannDefense', 1688, 'Ahm7777', 1692, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Bb4+,c3,dxc3,Nxc3,Ne4,O-O,Nxc3,bxc3,Bxc3,Rb1,O-O,Qb3,Bxe5', 'Bxc6,bxc6,Nxe5', 'https://lichess.org/training/GbW73');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gBwTE', 'Blitz', 'a_t_h_e_o_s', 1595, 'hOw_not_to_play', 1577, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Ng5,Nc6,Bb5,Bd7,Qe2+,Be7,O-O,O-O,c3,Ng4,Bxc6,bxc6,Nf3,Nh6,Bxh6,gxh6,Ne5,Kh8,Qh5,Bg5,Nxf7+,Rxf7,Qxf7,Bg4,f4,Bh4,g3,Bf6,Nd2,Qd6,Rae1,c5,Re8+,Rxe8,Qxe8+,Kg7,Re1,cxd4,cxd4,Bxd4+,Kg2,Bf6,Nf3,Qc5,Ne5,Qc2+,Kf1', 'Bh3+,Kg1,Qg2#', 'https://lichess.org/training/gBwTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gbXsg', 'Rapid', 'Markkut', 1787, 'andre114', 1648, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,g6,Re1,Bg7,c3,d6,h3,O-O,d4,exd4,cxd4,Nd7,Ng5,Qe7,e5,dxe5,dxe5,Ncxe5,Bb3,b6,Nc3,Bb7,Nd5,Bxd5,Bxd5,Rad8,Qb3,Nc5,Qe3,Rxd5,f4,Qd7,fxe5,Bxe5,Nf3,Bg7,Bd2,Ne6,Bc3,Re8,Bxg7,Nxg7,Qf2,Rd8,Rac1,c5,Re2,Rd1+,Rxd1,Qxd1+,Kh2,Qd4,Qe1,Qd6+,g3,h5,Kg2,Ne6,Nh4,Qd5+,Kh2,Qxa2,Nxg6,fxg6,Rxe6,Qxb2+,Kh1,Qg7,Qe4,Kh7', 'Re7,Rd7,Rxg7+', 'https://lichess.org/training/gbXsg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GbZhS', 'Rapid', 'DystopianOverture', 1838, 'S-Fischer', 1603, 'c4,e5,Nc3,Nf6,g3,Bc5,e3,d6,Bg2,O-O,Nge2,Nbd7,d4,Bb6,O-O,Re8,b3,Nf8,Bb2,Ng6,Nd5,Nxd5,Bxd5,c6,Bg2,Be6,d5,cxd5,cxd5,Bg4,Re1,Rc8,Rc1,h5,h3,Bf5,e4,Bd7,Nc3,Qf6,Qe2,h4,g4,Nf4,Qf3,Bxf2+,Qxf2,Nd3,Qxf6,gxf6,Nb5,Bxb5,Rxc8,Rxc8,Rb1,Nxb2,Rxb2,Rc1+,Kh2,Rc5,Rf2,Kg7,Rf5,Rc2,a4,Rb2,axb5,Rxb3,Rh5,Rxb5,Rxh4,a5,Bf1,Rb2+,Kg3,a4,Bc4,a3,Rh5,a2,Bxa2,Rxa2,g5,fxg5,Rxg5+,Kf6,h4,b5,Rf5+,Ke7,h5,b4,h6,b3,h7,Ra8,Rh5,b2,h8=Q', 'Rxh8,Rxh8,b1=Q', 'https://lichess.org/training/GbZhS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gc0pL', 'Rapid', 'Zein', 1742, 'CaptainPaprika', 1617, 'd4,d5,Bf4,Nc6,e3,Nf6,c3,a6,Nf3,Bg4,Bd3,e6,Nbd2,Bd6,Bxd6,Qxd6,Qc2,Bxf3,Nxf3,O-O-O,O-O-O,h6,Nd2,e5,Nb3,e4,Be2,h5,Nc5,Nd7,Nxa6,bxa6,Bxa6+,Kb8,Qb3+,Nb6,a4,Ka7,Be2,Rb8,Bb5,Na5,Qa2,Nbc4,b4,Nc6,Bxc4,dxc4,Qxc4,Qd7,b5,Na5,Qb4,Nc6,Qc5+,Rb6,a5,Nxa5,Kc2,Rb8', 'Ra1,Kb7,Rxa5', 'https://lichess.org/training/gc0pL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gc1EY', 'Rapid', 'wellwsj', 1824, 'renatoavarechess', 1715, 'd4,Nf6,Nf3,e6,g3,d5,Bg2,b6,O-O,Ba6,Bg5,Be7,Re1,O-O,Nbd2,Nbd7,a3,Rc8,b4,c5,Nb3,cxd4,Nbxd4,e5,Nf5,h6,Bxf6,Nxf6,Nxe5,Bb7,Nd4,Ne4,Bxe4,dxe4,e3,Bf6,f4,exf3,Nexf3,Qd5,e4,Qc4,Rc1,Rfd8,c3,g5,Qe2,Bxd4+,cxd4', 'Qxe2,Rxe2,Rxc1+', 'https://lichess.org/training/gc1EY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gc1Ty', 'Rapid', 'sid123sid', 1659, 'Bigchess123', 1676, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,a6,Ba4,b5,Bb3,Be7,O-O,d6,Ne2,Na5,c3,Nxb3,Qxb3,O-O,d4,exd4,cxd4,Nxe4', 'Qd5,Rb8,Qxe4', 'https://lichess.org/training/gc1Ty');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GC2B8', 'Classical', 'Satya1998', 1833, 'Ton5000', 1801, 'd4,d5,c4,c6,Nc3,e6,Nf3,a6,cxd5,cxd5,e3,b5,Bd3,Bb7,O-O,Bd6,Ne2,Nf6,Ng3,O-O,Nd2,h6,f3,Qc7,Qe1,Nbd7,e4,dxe4,fxe4,Nh7,e5,Be7,Nh5,Nb6,Qg3,g6,Bxg6,Bg5,Bxh7+,Kxh7,h4,Rg8,hxg5,Rxg5,Nf6+,Kh8,Qh4', 'Rxg2+,Kh1,Rg4+,Kh2,Rxh4+', 'https://lichess.org/training/GC2B8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gc2o0', 'Blitz', 'BARASHik', 1721, 'WFM szefru', 2142, 'e4,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,Nc3,Nxc3,dxc3,e6,Nf3,Bxc5,Bd3,O-O,O-O,h6,b4,Bb6,c4,d5,c5,Bxc5,bxc5,Nd7,Ba3,c6,Re1,Re8,Nd4,Qa5,Qb3,Nxc5,Qb4', 'Qxb4,Bxb4,Nxd3', 'https://lichess.org/training/gc2o0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gC3Q7', 'Blitz', 'pushkarevsfamily', 1833, 'FM SimonMkrtchyan', 2367, 'e4,c5,Nc3,Nc6,Bc4,e6,d3,Nf6,Bg5,d5,Bxf6,Qxf6,exd5,Nd4,dxe6,Bxe6,Bxe6,Qxe6+,Nge2,Bd6,O-O,O-O,Re1,Qh6,Ng3,Rfe8,Nce4,Bc7,c3,Nf5,Qg4,Nh4,Qg5,Rxe4,Qxh6', 'Rxe1+,Rxe1,gxh6', 'https://lichess.org/training/gC3Q7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gC6JT', 'Rapid', 'karunada', 1778, 'Davood1364', 1758, 'e4,e5,Nf3,Bc5,d4,exd4,Nxd4,Qf6,Be3,Nc6,Nxc6,Qxc6,Bxc5,Qxc5,Nc3,Nf6,Bd3,O-O,O-O,d6,a3,Bg4,Qd2,Rae8,Rfe1,Re7,b4,Qh5,Nd5,Nxd5,exd5,Rfe8,c4,Re5,Rxe5,Rxe5,f3,Bxf3,gxf3', 'Rg5+,Qxg5,Qxg5+', 'https://lichess.org/training/gC6JT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gCAOc', 'Rapid', 'Aleksandr2384', 1836, 'gLaly', 2094, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,f3,Qh4+,g3,Qf6,Be2,Bc5,Nxc6,bxc6,h4,Ne7,Bg5,Qg6,Qd2,h6,h5', 'Qxg5,Qxg5,hxg5', 'https://lichess.org/training/gCAOc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gCBht', 'Bullet', 'Elyes12', 1637, 'janka100', 1603, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Be6,Be2,Be7,d3,Nf6,O-O,O-O,Bxf4,Nc6,Nbd2,Bg4,Bg3,Nh5,Bf2,Nf4,Bg3,Nxe2+,Qxe2,Nd4,Qd1,Bg5,c3,Bxd2,Qxd2,Nxf3+,gxf3,Bh3,Rf2,f5,exf5,Rxf5,Re1,Qf6,d4,Rxf3,Rfe2,Rf8,Qd1,Rf1+,Rxf1', 'Qxf1+,Qxf1,Rxf1#', 'https://lichess.org/training/gCBht');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GcboR', 'Rapid', 'Rawiiiii', 2142, 'CHESSCHAPIN', 2091, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,d6,Re1,Na5,d4,Nxb3,axb3,Nd7,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Nc3,Bd6,Be3,Ke7,Nd5+,Kd7,c4,bxc4,bxc4,Bb7,Rad1,Bxd5,Rxd5,Ke6,c5,Be7,Red1,Rhd8,f3,f5,c6,fxe4,fxe4,Rxd5,exd5+,Kd6,Bf2,Rb8,Rd2,Rb5,b4,Rxd5', 'Bc5+,Kxc6,Rxd5,Kxd5,Bxe7', 'https://lichess.org/training/GcboR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GcC5O', 'Blitz', 'ashutoshkumarshukla', 2057, 'Muhiddinakiz', 2019, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,h5,Be2,Bf5,Ng3,Bg4,Bxg4,hxg4,Qxg4,Nf6,Qd1,Qb6,Nf3,e6,c3,Nbd7,O-O,Bd6,Re1,O-O-O,a4,Ng4,a5,Qc7,a6,b6,Qe2,Ndf6,Ne5,Rh7,Nxg4,Rdh8,Nxf6,Rxh2,Nfe4,Bxg3,Nxg3', 'Rh1+,Nxh1,Qh2+,Kf1,Qxh1#', 'https://lichess.org/training/GcC5O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GccSn', 'Rapid', 'wookye', 1857, 'attagol', 1853, 'd4,a6,c4,b6,Bf4,Bb7,Qb3,e6,Qg3,d6,Nc3,Nd7,Nf3,Ngf6,Bg5,Be7,e3,h6,Bxf6,Bxf6,h3,O-O,Be2,c6,O-O,e5,Ne4,Be7,dxe5,d5,cxd5,cxd5,Nc3,f5,exf6,Nxf6,Nd4,Bd6,Qg6,Qe7,Nf5,Qd7,Nxh6+,Kh8,Nf5,Ne8,Bd3,Rf6,Qh5+,Kg8,Nxd6,Qxd6,Rad1,Rh6,Qe2,Nf6,a4,Re8,Bf5,Qe5,Qd3,Rh5,Bg4', 'Nxg4,f4,Qxe3+,Qxe3,Nxe3', 'https://lichess.org/training/GccSn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCe15', 'Blitz', 'IM mostrovski', 2581, 'Tepeme', 2575, 'e4,Nf6,e5,Nd5,d4,Nb6,Nf3,d6,Be2,dxe5,Nxe5,N8d7,O-O,Nxe5,dxe5,Qxd1,Rxd1,Bf5,Bd3,Rd8,Nc3,Bxd3,cxd3,e6,Be3,Nd5,Nxd5,Rxd5,Rac1,Kd7,Bxa7,b6,Bb8,Rc5,d4,Rxc1,Rxc1,c6,Kf1,Be7,Bd6,Bxd6,exd6,Kxd6,Ke2,Ra8,a3,Ra5,Kd3,Rh5,h3,Rg5,g4,h5,f4,Rg6,g5,h4,Ke4,f6,Rg1,c5,dxc5+,Kxc5,b4+,Kb5,gxf6,Rxf6,Rxg7,Rf8,Re7,Ra8,Rxe6,Rxa3,f5,Rxh3,f6,Rh1,f7,Rf1', 'Re5+,Ka4,Rf5', 'https://lichess.org/training/GCe15');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCfWw', 'Rapid', 'reivajef', 1811, 'ARRASTROMADERA', 1903, 'd4,Nf6,c4,e6,Nc3,c5,d5,exd5,cxd5,d6,e4,a6,Nf3,Bg4,Be2,Qc7,O-O,Nbd7,a3,Be7,Bf4,O-O,Rc1,b5,b4,c4,Nd4,Bxe2,Qxe2,Rfe8,Qf3,Bf8,Rfe1,Rac8,Nc6,g6,Ne2,Bg7,Ned4,Nh5,Be3,Ne5,Nxe5,Bxe5,Nc6,Bg7,Bd2,Nf6,Bc3,Nd7,Bxg7,Kxg7,Qc3+,Kg8,f4,f6,a4,Kf7,axb5,axb5,Ra1,Qb6+,Kh1,Rxc6,dxc6,Qxc6,Qd4,Re7,Rad1,Re6,f5,gxf5,exf5,Rxe1+,Rxe1,Ne5,Rd1,Ke7,Qd5,c3,Qe6+,Kf8,Qxd6+', 'Qxd6,Rxd6,c2', 'https://lichess.org/training/GCfWw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCfXH', 'Rapid', 'vaishnav', 1625, 'Glineni', 1636, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Nc6,Nf3,a6,Nc3,Bb4,Bd2,b5,Bb3,Nf6,a3,Bxc3,Bxc3,Nxe4,O-O,Nxc3,bxc3,O-O,Re1,Na5,Bc2,Nc4,Qd3,f5,Ne5,Nxe5,Rxe5,Re8,Rae1,Qg5,Kh1,Bb7,f3,Rad8,Bb3,Kh8,Rxe6,Rxe6,Bxe6,c5,Qxf5,Qd2,Qe5,Re8,h3,h6,Re2,Qg5,Kg1,Bxf3', 'Qxg5,hxg5,gxf3', 'https://lichess.org/training/GCfXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gcg8x', 'Rapid', 'Ssgghfh', 1788, 'chessplayer258', 1864, 'e4,c5,c4,Nc6,Nc3,g6,d3,Bg7,Be3,d6,Qd2,Nf6,g3,O-O,Bh6,a6,h4,Ne5,Be2,Bg4,f3,Bd7,h5,Nxh5,Rxh5,gxh5,Qg5,Ng6,Qxh5,b5,f4,Bxh6,Qxh6,e6,Nf3,Qf6,O-O-O,Qg7,Qh5,b4,Nb1,a5,Rh1,a4,Ng5,a3,bxa3,Rxa3,Nxh7,Rxa2', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/gcg8x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gcGLK', 'Rapid', 'capry514', 1626, 'jorgw', 1608, 'd4,Nf6,d5,c6,Nc3,cxd5,Nxd5,Nxd5,Qxd5,e6,Qd1,d5,e3,Nc6,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/gcGLK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gCh5R', 'Rapid', 'Nuprow', 2039, 'PepeMaster', 1948, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qc3,e6,a3,Nd5,Qb3,Bg7,Bg5,Qc7,Nbd2,Nxe5,Nxe5,Qxe5+,Be3,Nxe3,fxe3,Qxb2,Qxb2,Bxb2,Ra2,Bc3,Kd1,Bxd2,Kxd2,d5,a4,a6,Be2,Bd7,Rb1,Bc6,g3,Kd7,a5,f5,Rab2,Rac8,c4,dxc4,Bxc4,Rc7,Bd3,Rd8,Ke2,Ke7,Rb6,h6,R1b2,Rdd7,Bc4,g5,Kf2,h5,R6b4,Kf6,Ke2,h4,gxh4,gxh4,Bd3,h3,Rh4,Rh7,Rxh7,Rxh7,Kf2,Rg7,Bf1,Rh7,Kg3,Kg5,Bxh3,Bb5,Bg2,Bc6,Bxc6,bxc6,Rb6,e5,Rxc6,f4+,exf4+,exf4+,Kg2,Rh6,Rb6,Rf6,Kf3,Kf5', 'Rxf6+,Kxf6,Kxf4', 'https://lichess.org/training/gCh5R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gCiAi', 'Blitz', 'Kolmix1', 1739, 'CKamilo2000', 1767, 'e4,e6,d4,d5,exd5,exd5,Nf3,h6,h3,Nf6,Bd3,Be7,O-O,O-O,Be3,a6,a4,Nc6,c3,Re8,Qd2,g5,Bxg5,hxg5,Qxg5+,Kf8,Qh6+,Kg8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/gCiAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GcIHF', 'Rapid', 'Chopalov', 1621, 'carvajal_arturo', 1707, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Nc6,c4,Qe4+,Be2,Nd4,d3,Qxe2+,Qxe2,Nxe2,Kxe2,Bg4,Re1,Bxf3+,gxf3,e6,Kf1,O-O-O,Be3,Rxd3,Bxa7,Rxf3,Re3,Rxe3,Bxe3,Bd6,h3,Be5,Rb1,c6,b3,Kc7,Rd1,Rd8', 'Bb6+,Kxb6,Rxd8', 'https://lichess.org/training/GcIHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gcILs', 'Blitz', 'WIM Efremova', 2219, 'HuseyinGumet', 1844, 'd4,Nf6,Bf4,c5,d5,Ne4,c3,e6,f3,Qh4+', 'g3,Nxg3,Bxg3', 'https://lichess.org/training/gcILs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GcKGE', 'Rapid', 'smolet', 1821, 'handsomechuck', 1870, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Bd7,Nf3,Bc6,Neg5,Nf6,Bd3,h6,Nh3,b6,O-O,Nbd7,Nf4,Be7,Re1,Bb7,Nxe6,fxe6,Rxe6,O-O,Qe2,Re8,Bg6,Bxf3,gxf3,Nf8', 'Bxe8,Nxe6,Qxe6+', 'https://lichess.org/training/GcKGE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCKsT', 'Rapid', 'adorna', 1691, 'gilzzza', 1642, 'e4,c5,Nf3,d6,Bc4,e6,Bb5+,Nc6,O-O,Bd7,Bc4,a6,a4,Nf6,d3,g6,Bg5,Bg7,Qc1,h6,Bh4,O-O,c3,Kh7,Nbd2,Na5,h3,Nxc4,Nxc4,Qc7,a5,Bb5,Nb6,Rad8,c4,Bc6,Rb1,d5,e5,Nd7,Bxd8,Rxd8,Nxd7,Rxd7,Qf4,dxc4,dxc4,Qxa5,Qh4,Kg8,Qg3,Qb4,b3,Rd3,Rfd1,Rxd1+,Rxd1,Qxb3,Rd8+,Kh7', 'Ng5+,hxg5,Qxb3', 'https://lichess.org/training/GCKsT');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 15;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet16 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCl5F', 'Rapid', 'SUTANAT', 1844, 'begobet', 1824, 'e4,e5,c3,Bc5,Nf3,d6,d4,exd4,cxd4,Bb6,h3,h6,Bc4,a6,O-O,Nc6,d5,Na5,Qa4+,Bd7,Qc2,g5,Be3,Nxc4,Bxb6,Nxb6,e5,g4,hxg4,Bxg4,Nd4,h5,e6,fxe6,Qg6+,Kd7,dxe6+,Bxe6', 'Qxe6#', 'https://lichess.org/training/GCl5F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCLMD', 'Rapid', 'ricky0112', 1933, 'ma3dnous', 1948, 'd4,Nf6,Nc3,d5,f3,c5,e4,cxd4,Qxd4,Nc6,Qd1,d4,Nb1,e5,Bc4,Bb4+,Bd2,Bxd2+,Nxd2,O-O,Ne2,Na5,Bd3,a6,O-O,Be6,b3,Re8,f4,Nc6,fxe5,Nxe5,Ng3,Nxd3,cxd3,Bg4,Nf3,Bxf3,Qxf3,Rf8,Rae1,Qb6,e5,Nd7,Nf5,Rae8,Qg4,Qg6,Qxg6,fxg6,Nd6,Rxe5,Nxb7,Rxf1+,Rxf1,Rf5,Rc1,Ne5,Nd6,Rf8,Rd1,Ng4,h3,Ne3,Rc1,h6,Rc6,Rf1+,Kh2,Rd1,Rxa6,Rxd3', 'Ra8+,Kh7,Nf7,g5,Rh8+,Kg6,Ne5+,Kf5,Nxd3', 'https://lichess.org/training/GCLMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gcLTF', 'Rapid', 'DilberMurat', 1716, 'SRMSTER', 1710, 'd4,b5,c3,a6,Nf3,e6,Nbd2,Be7,e4,Nf6,Be2,d6,O-O,O-O,c4,Bb7,e5,Ne4,Nxe4,Bxe4,Bf4,d5,c5,Nc6,Rc1,f6,exf6,Rxf6,Be5,Rg6,Nd2,Nxe5,Nxe4,Nc4,Bh5,Rh6,Ng3,Bg5,Rc3,c6,f4,Bf6,Rcf3,Qa5,b3,Nd6,R3f2,Qc3,Rf3,Qxd4+,Qxd4,Bxd4+,Kh1,Rf8,Ne2,Bb2,Bg4,Ba3,Bxe6+,Rxe6,Nd4,Re2,cxd6,Bxd6,Nxe2,c5,f5,d4,f6,gxf6,Rxf6,Rxf6,Rxf6,Be5,Rxa6', 'd3,Re6,d2,Rxe5,d1=Q+', 'https://lichess.org/training/gcLTF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gcM26', 'Rapid', 'wonderfullcap', 1878, 'Super_Fireboy', 1919, 'Nf3,d5,c4,d4,d3,c5,Bf4,Nc6,Nbd2,Nf6,a3,Nh5,Bg3,Nxg3,hxg3,a5,Ne4,e5,Qd2,Be7,e3,f5,Nxc5,Bxc5,exd4,Bxd4,Nxd4,Nxd4,Qc3,O-O,Be2,Nxe2,Kxe2,Re8,f3,e4,d4,exf3+,Kxf3,b5,b3,Bb7+,d5,Rc8,Qd3,Qg5,Rh4,bxc4,bxc4,Re4,Rxe4,fxe4+,Qxe4,Rf8+,Ke2,Qxg3,Rf1,Qxa3,Qe6+,Kh8,Rxf8+,Qxf8,d6,Bxg2,d7,Qf1+,Kd2,Qf4+', 'Qe3,Qd6+,Qd3', 'https://lichess.org/training/gcM26');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCMld', 'Blitz', 'Nemmy', 1727, 'Qaxtri', 1777, 'd4,d5,Bf4,Nf6,e3,Nc6,Nf3,Bg4,Nbd2,e6,c3,Bd6,Bg3,Ne4,Qb3,Rb8,Ne5,Nxg3,hxg3,Bxe5,dxe5,Nxe5,f3,Bf5,Qa4+,c6,Qxa7,Bd3,O-O-O,Bxf1,Rhxf1,Ra8,Qd4,f6,a3,Qd6,e4,c5,Qe3,d4,cxd4,cxd4,Qb3,O-O,Kb1,Rfc8,f4,Nc6,Nc4,Qe7,Nb6,Na5,Qa2,Qc5,Nxa8', 'Qc2+,Ka1,Nb3+,Qxb3,Qxb3', 'https://lichess.org/training/GCMld');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GcmnB', 'Classical', 'Eng-salama', 1808, 'megamew', 1887, 'Nf3,c5,d4,cxd4,Qxd4,Nc6,Qd3,Nf6,Nc3,d6,Bg5,g6,e4,Bg7,Be2,Bd7,O-O,O-O,a3,a6,Rad1,Qc7,Nd5,Nxd5,exd5,Ne5,Nxe5,Bxe5,c3,Rfe8,f4,Bg7,Bf3,Bb5,Qc2,Bxf1,Rxf1,Rac8,Be4,b5,f5,a5,fxg6,hxg6,Qf2,Qc5', 'Be3,Rf8,Bxc5', 'https://lichess.org/training/GcmnB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gcogV', 'Rapid', 'reza3', 1656, 'Hilfsmatt', 1659, 'e3,d5,Nc3,Nf6,Qf3,Nc6,Qg3,d4,Nb5,dxe3', 'Nxc7+,Kd7,Nxa8,exf2+,Qxf2', 'https://lichess.org/training/gcogV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gcoLb', 'Rapid', 'TALIH17', 1697, 'fraker5-80', 1915, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,O-O,Nf6,d5,Ne5,Nxe5,dxe5,Bg5,Qd6,Nc3,a6,h3,O-O,Re1,h6,Bh4,Nh7,Qf3,f5,Rad1,fxe4,Qxe4,Rf4,Qxe5,Rxh4,Qe6+,Bxe6,dxe6,Qe7,Nd5,Qc5,Ne3,Rxc4,Nxc4,Qxc4,e7,Nf6,Rd8+,Kf7,Rxa8,Qc5', 'Rf8+,Kg6,Rxf6+,Kxf6,e8=Q', 'https://lichess.org/training/gcoLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gcoWi', 'Rapid', 'briasky', 2180, 'neverest', 2177, 'd4,Nf6,Nf3,g6,c3,Bg7,h3,d6,Bf4,Nc6,e3,a5,Bd3,O-O,O-O,Re8,Bh2,e5,Bc2,e4,Nfd2,b5,Re1,Bd7,a3,Qc8,Nf1,a4,Nbd2,d5,Ng3,Na5,Qe2,Nc4,Rab1,c5,Ndf1,cxd4,exd4,Qc6,Ne3,Kh8,Bd1,Ng8,Qc2,f5,Nef1,f4,Nh1,g5,Nd2,e3,Nxc4,dxc4,Bf3,exf2+,Kxf2,Qh6,Bxa8,Rxa8,Kg1,Bc6,Nf2,Nf6,Re6,Bd5,Re5,Rd8,Rbe1,Qh4,Qf5,Rf8,Rxd5,Nxd5,Qxd5,f3,Qe4,Qh5,g4,Qh4,Be5,Kg8,Bxg7', 'Qg3+,Kf1,Qg2#', 'https://lichess.org/training/gcoWi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCoZy', 'Rapid', 'Peschka22', 1783, 'hannibal4938', 1746, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Be2,c6,Nf3,Bg4,O-O,e6,h3,Bh5,Bg5,Be7,Bxf6,Bxf6,Ne4,Qf4,Nxf6+,Qxf6,c3,Nd7,Re1,O-O,Qd3,Bg6,Qd2,h6,Bd3,Bxd3,Qxd3,Rfe8,Re2,Rad8,Qc4,Nb6,Qb3,Re7,Rae1,Nd5,Re4,b6,Qa3,Nf4', 'Rxf4,Qxf4,Qxe7', 'https://lichess.org/training/GCoZy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gCPAT', 'Rapid', 'GreenStarEY', 1904, 'Curik', 1799, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,O-O,Re1,d5,exd5,Nxd5,h3,Re8,Nbd2,Nf4,Ne4,Bb6,Nxe5,Nxh3+,gxh3,Nxe5,Qh5,Ng6,Bg5,Qd7,Bb5,c6,Nd6,Rxe1+,Rxe1,Qxd6,Re8+,Nf8,Be7,Qg3+,Kh1,Qxh3+', 'Qxh3,Bxh3,Rxa8', 'https://lichess.org/training/gCPAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gcPlm', 'Rapid', 'skruvar', 1636, 'Kafka1st', 1604, 'd4,d6,c4,c5,dxc5,Qa5+,Nc3,Qxc5,Be3,Qc7,Rc1,Be6,Nb5,Qa5+,Nc3,Bxc4,Qa4+,Qxa4,Nxa4,Bxa2', 'Rc8+,Kd7,Rxf8', 'https://lichess.org/training/gcPlm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gcpu1', 'Blitz', 'IM Satsanga', 2186, 'Catenaria', 2097, 'd4,Nf6,Bf4,c5,e3,g6,c3,Bg7,Nf3,O-O,h3,b6,Be2,Bb7,O-O,d6,Nbd2,Nbd7,a4,a6,Bh2,Qc7,Bd3,Rfc8,e4,cxd4,cxd4,Qd8,Qe2,Nf8,Rac1,Rxc1,Rxc1,Rc8,Re1,Ra8,e5,dxe5,dxe5,Nd5,Rd1,Qc8,Be4,Ne6,Nc4,Ndf4,Bxf4,Nxf4,Qe3,Qxc4,Bxb7,Rb8,Rd4', 'Ne2+,Kh1,Nxd4', 'https://lichess.org/training/Gcpu1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gcpxZ', 'Rapid', 'ellefitz', 1828, 'studychess', 2161, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,d6,Be3,Nf6,Qd2,Be7,f3,O-O,O-O-O,a6,g4,e5,Nf5,Bxf5,gxf5,b5,Rg1,Qa5,Kb1,b4,Nd5,Nxd5,Qxd5,Qxd5,Rxd5,Rfc8,Bh3,f6,Bh6,Bf8,Be3,a5,f4,a4,fxe5,dxe5,Rd7,Rd8,Rgd1,Rxd7,Rxd7,Rd8,Rxd8,Nxd8,Bf1,Kf7,Bc4+,Ke8,Bb5+,Kf7,Bxa4,g6,fxg6+,hxg6,Bd7,Ne6,c3,bxc3,bxc3,f5,exf5,gxf5,Kc2,f4,Bf2,e4,a4,Nc5,Bb5,e3,Bg1,Bd6,Bc6,Ke6,a5,Ke5,h4,Ne4,a6,Bc5,h5', 'e2,Bxc5,e1=Q', 'https://lichess.org/training/gcpxZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gCqjV', 'Rapid', 'Citizen_0', 2092, 'remziatas', 2092, 'e4,c6,d4,d5,e5,Bf5,h4,Nh6,Bxh6,gxh6,g4,Be6,f4,f5,exf6,exf6,Qe2,Qe7,f5,Bf7,Nd2,Rg8,Bh3,Nd7,O-O-O,O-O-O,h5,Qb4,c3,Qa5,Kb1,Re8,Qf2,c5,Nb3,Qb6,Nf3,c4,Na1,Bd6,Rhe1,Kd8,Rxe8+,Rxe8,Re1,Rxe1+,Qxe1,Bf4,Ng1,Qd6,Ne2,Qe7,Nc2,Bg5,Bg2,a5,Ng3', 'Qxe1+,Nxe1,Bh4,Ne2,Bxe1', 'https://lichess.org/training/gCqjV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCR5K', 'Blitz', 'TaiChiChessmaster', 2170, 'Cenak', 2221, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,bxc6,d3,Bg7,O-O,e5,Nc3,d6,h3,Ne7,Ne2,O-O,c3,h6,d4,Qc7,dxc5,d5,Ng3,Be6,Qe2,a5,a4,Kh7,Re1,f6,Be3,dxe4,Nxe4,Nf5,b4,Bd5,Nfd2,Nxe3,fxe3,f5,Nd6,e4,Rec1,Be5,N2c4,Bg3,Kh1,f4,exf4,Rxf4,Nb6,Raf8,Rf1,Qe7,Nxd5,cxd5,Rxf4,Bxf4,Nb5,Qh4,Qe1,Bg3,Qe3,Bf2,Qe2,Rf3,Kh2,Rxh3+,gxh3', 'Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/GCR5K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gctfc', 'Rapid', 'LeBlaBlaZ', 1644, 'garykasparovofph', 1689, 'e4,c5,c3,e6,d4,d5,e5,cxd4,cxd4,Nc6,Nf3,f5,Nbd2,Bb4,a3,Ba5,b4,Bb6,Nb3,Nge7,Nc5,Bxc5,bxc5,O-O,Bd3,b6,Qc2,bxc5,Qxc5,Bd7,Bg5,Qa5+', 'Qxa5,Nxa5,Bxe7', 'https://lichess.org/training/Gctfc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GcTjb', 'Blitz', 'nose78', 1733, 'castriulka', 1697, 'e4,d6,d4,g6,Nf3,Bg7,Be3,Nf6,Nc3,O-O,h4,h5,Be2,Ng4,Ng5,Nxe3,fxe3,f6,Bxh5,fxg5,hxg5,e5,Bxg6,Qxg5,Bh7+,Kf7,Rf1+,Ke7,Nd5+,Kd7,Bf5+,Rxf5,Rxf5,Qg3+,Kd2,Qxg2+,Kd3,Kc6,c4,Bxf5', 'Qa4+,b5,Qxb5#', 'https://lichess.org/training/GcTjb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gCUWZ', 'Blitz', 'raybibi', 2316, 'Crestbook_com', 2347, 'Nf3,c5,g3,Nc6,Bg2,g6,O-O,Bg7,c4,e5,Nc3,Nge7,a3,O-O,b4,d6,b5,Nd4,Ne1,f5,e3,Ne6,Rb1,f4,Ne4,Nf5,Bb2,Ng5,Nxg5,Qxg5,exf4,exf4,Bd5+,Kh8,Nf3,Qh5,Re1,Bxb2,Rxb2,fxg3,hxg3,Nxg3,fxg3,Bg4,Qa1,Kg7,Rb3+,Kh6,Qc3,Qh3,Qe3+,Kg7,Qe7+,Kh6,Qg5+,Kg7,Nh4,Rae8,Re7+,Kh8,Rxh7+,Kxh7', 'Qxg6+,Kh8,Qh6#', 'https://lichess.org/training/gCUWZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCVWF', 'Blitz', 'gaetande', 1595, 'Georgy_2019', 1600, 'd4,Nf6,Bf4,g6,Nf3,Bg7,c4,O-O,Nc3,d6,e4,Bg4,d5,Nbd7,b4,Bxf3,Qxf3,Nh5,Be3,Bxc3+,Ke2,Bxa1,g4,Nhf6,h4,Ne5,Qg3,Nxc4,Bh6,Re8,h5,Nxe4,Qf4,Nc3+,Kf3,Ne5+,Kg2,Nxd5,Qg3,Nxb4,hxg6,fxg6,Qh3,Kf7,Bf4,Ke6,g5+,Kd5,Qb3+,Kc6,Qa4+,b5', 'Qxb5#', 'https://lichess.org/training/GCVWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gCWEE', 'Rapid', 'Mistermagoo64', 2040, 'ustachifuu', 2021, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,c3,a6,Ba4,Bg4,d3,Nf6,Be3,Bb6,Bxb6,cxb6,Nbd2,h5,h3,Be6,b4,b5,Bb3,Qd7,Ng5,Bxb3,axb3,Nh7,Nxh7,Rxh7,f4,Qe7,f5,g6,f6,Qe6,Qe2,g5,Rf5,O-O-O,Raf1,g4,h4,d5,g3,d4,c4,bxc4,Nxc4,Nxb4,Rxe5,Qc6,Re7,Kb8,e5,Re8,Rxe8+,Qxe8,Qe4,Rh8,Nd6,Qd7,Qxd4,Nc6,Qd5,Rf8,Qe4,Qe6,d4,Qxb3,Qf4,Qc3,e6,Qxd4+', 'Qxd4,Nxd4,e7', 'https://lichess.org/training/gCWEE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCWr1', 'Rapid', 'fiaskerzz', 1721, 'DimitrisM_Pap', 1672, 'e4,e6,Nc3,b6,d4,Bb7,Bd3,Bb4,Bd2,Nf6,Qe2,e5,dxe5,Bxc3,Bxc3,Ng8,Qg4,h6,Qxg7,Qg5,Qxg5,hxg5,O-O-O,Na6,Nf3,g4,e6,Rh6,exf7+,Kf8,Ne5,Nc5,Bb4,Bc6,Be2,Nf6,Nxg4,Nxg4,Bxg4,Kxf7,Bxc5,bxc5,Rhe1,Rxh2,Bxd7,Bxd7,Rxd7+,Ke6,Rxc7,Rxg2,Rxc5,Rxf2,Rc3,Ke5,Rce3,Raf8,c4,Kd4,Rc3,a5,c5,a4,c6,a3,c7', 'axb2+,Kb1,Kxc3', 'https://lichess.org/training/GCWr1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GcwtN', 'Blitz', 'Izztupido', 2055, 'igorek801', 2023, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,g6,Bd3,Bg7,Be3,O-O,Qd2,Nc6,O-O-O,Be6,Kb1,a5,h4,h5,Ng5,Qd7,f3,Ne5,Nxe6,Qxe6,Rde1,Nxd3,cxd3,b5,g4,hxg4,fxg4,Qxg4,h5,b4,Reg1,bxc3,bxc3,Rab8+,Ka1,Qb4,d4,Qb5,hxg6,fxg6,Rxg6,c5,Bh6,Rf7,Rhg1,Rbb7,Qg2,Qd7,Qd5,Qb5,Rxg7+,Kh8,R7g2', 'Rf1+,Rxf1,Qxf1+,Bc1,Qxc1#', 'https://lichess.org/training/GcwtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GcX47', 'Rapid', 'Madkid', 1768, 'mehran4836', 1927, 'd4,Nf6,Nf3,g6,Bf4,Bg7,c3,O-O,e3,d6,Be2,c6,Nbd2,Qb6,Qc2,Bf5,Qb3,Nbd7,O-O,Be6,Qc2,Nd5,Bg3,c5,e4,N5f6,a4,cxd4,Nxd4,Rac8,Nxe6,fxe6,a5,Qc6,Qb3,Nc5,Qc4,d5,exd5,exd5,Qb4,Bh6,Nb3,Nxb3,Qxb3,e6,Bf3,Nd7,Rfe1,Nc5,Qc2,Rfe8,Re2,Qb5,Rae1,Nd3,Rd1,Nf4,Bxf4,Bxf4,Rde1,e5,g3,Bh6,Ra1,e4,Bg4,Rc7,Qa4,Rc5', 'Qxb5,Rxb5,Bd7', 'https://lichess.org/training/GcX47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gcXwE', 'Blitz', 'spaghetti-fault', 1667, 'ictiologo', 1646, 'a3,c5,e3,Nc6,Nf3,g6,c4,Bg7,Nc3,b6,Be2,Bb7,O-O,e6,Ne4,d5,cxd5,exd5,Neg5,d4,exd4,Nxd4,Re1,Ne7,Nxd4,cxd4,Bb5+,Kf8,Qe2,Nf5,d3,Qd5', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/gcXwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GCYOy', 'Blitz', 'Igor1947', 1724, 'bober2018', 1716, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Ne2,Nf6,Bf4,Bxf4,Nxf4,O-O,O-O,Qd6,Ne2,Ng4,Ng3,h5,Nd2,h4,f3,Ne3,Qe1,Nxf1,Nf5,Qxh2+,Kxf1,h3', 'Ne7+,Kh8,Qh4#', 'https://lichess.org/training/GCYOy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gd0jp', 'Rapid', 'nwillows81', 1660, 'Fitz86', 1785, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,e5,d5,O-O,Nge2,Nbd7,b4,a5,bxa5,Rxa5,Bd2,Ra8,O-O,Nc5,Bc2,Nh5,Na4,b6,Nxc5,bxc5,f4,f5,exf5,Bxf5,Bxf5,gxf5,fxe5,Bxe5,Bc3,Qe7,Bxe5,Qxe5,Re1,f4,Ng3,Qg5,Nxh5', 'f3,Ng3,f2+', 'https://lichess.org/training/Gd0jp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gd3Kd', 'Rapid', 'gardas', 1695, 'antoniocg', 1617, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Bg4,d4,Bxf3,gxf3,exd4,cxd4,Nge7,Qb3,d5,exd5,Nxd4,Qxb7,Nc2+,Kd1,Nxa1', 'Bb5+,c6,Bxc6+,Nxc6,Qxc6+', 'https://lichess.org/training/gd3Kd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gd8cw', 'Classical', 'DrOdnat', 1755, 'Opec25', 1755, 'e4,e5,Nf3,Nc6,d3,Bc5,Be3,Bxe3,fxe3,Nf6,Be2,O-O,O-O,d5,Nc3,d4,exd4,Nxd4,Nxe5,Nxe2+,Qxe2', 'Qd4+,Qf2,Qxe5', 'https://lichess.org/training/Gd8cw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gD8Pv', 'Classical', 'gummibaer', 1901, 'MagoMou', 1766, 'e4,e5,f4,Nf6,Nc3,Bb4,fxe5,Bxc3,exf6,Bxf6,Nf3,d5,e5,Be7,d4,O-O,Bd3,Bg4,O-O,c5,Be3,c4,Be2,Nd7,Qd2,Bxf3,Rxf3,f6,exf6,Nxf6,c3,Ne4,Qc2,Qc7,Raf1,Bd6,Rh3,Rxf1+,Bxf1,Rf8,Be2,Bf4,Bxf4,Qxf4,Rf3,Qg5,Rxf8+,Kxf8,Bf3', 'Qe3+,Kf1,Nd2+,Qxd2,Qxd2', 'https://lichess.org/training/gD8Pv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gd8Wa', 'Blitz', 'AK362', 1754, 'bartherrera', 1718, 'e4,c5,Nf3,Nc6,Nc3,b6,d4,cxd4,Nxd4,Nxd4,Qxd4,Bb7,Bf4,e6,Bd6,Bxd6,Qxd6,Ne7,O-O-O,Bc6,Bb5,Rc8,Kb1,f6,f4,Kf7,Rhf1,g6,g4,f5,exf5,gxf5,Rfe1,Qc7,Qd3,fxg4,Bxc6,dxc6,Qd7,Qxd7,Rxd7,Kf6,Ne4+,Kf7,Rxa7,Rcd8,Ng5+,Kf6,Nxe6,Rd2,Kc1,Rxh2,Ng5,Nd5', 'Re6+,Kf5,Rf7+,Nf6,Rexf6#', 'https://lichess.org/training/Gd8Wa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gDAO0', 'Rapid', 'hatipoglu', 1608, 'mehamhm', 1689, 'e4,e5,Bc4,Bc5,Qf3,Nf6,d3,h6,Ne2,Nc6,c3,O-O,Ng3,Na5,Bb3,Nxb3,axb3,a5,Nf5,d6,Bxh6,Bxf5,Qxf5,gxh6,b4,Bb6,bxa5,Bxa5,b4,b6,bxa5,bxa5,O-O,Kh8,Qh3,h5,f4,Rg8,fxe5,dxe5,Rf3,Rg6,Qh4,Qe7,Nd2,Rag8,g3,Qc5+,d4,exd4,Rf5,Qxc3,Raxa5,Qc1+,Nf1,Rh6,Rxh5,Rxh5,Rxh5+,Nxh5,Qxh5+,Kg7,Qe5+,Kf8,Qxd4,c5,Qd6+,Ke8', 'Qb8+,Ke7,Qxg8', 'https://lichess.org/training/gDAO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gdd2O', 'Rapid', 'glebdius', 1796, 'Vuqar-2019-8-11', 1786, 'Nf3,d5,d4,Nc6,g3,Bg4,Bg2,Nf6,Ne5,Bd7,Nxd7,Qxd7,O-O,O-O-O,Nc3,e6,e3,h5,h4,Nh7,Qxh5,Bb4,a3,Bxc3,bxc3,Qe7,Qe2,g5,h5,f5,Qb5,g4,Rb1,Kd7,Qxb7', 'Rb8,Qa6,Rxb1', 'https://lichess.org/training/Gdd2O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GDDcY', 'Rapid', 'ChessExcalibur', 1912, 'wuendel', 1755, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Be7,O-O,Nf6,d3,O-O,Bxf4,Nc6,Nc3,Bg4,h3,Bh5,Be3,Nd7,Qe1,Bxf3,Rxf3,Nde5,Rf1,Nxc4,dxc4,Ne5,b3,Bg5,Rd1,Bxe3+,Qxe3,c6,Rf5,Qe7,Qd4,g6,Rf2,Rad8,Rfd2,f5,exf5,Rxf5,Qxa7,Rg5,Qe3,Qe6,Ne4,Rf5,Rxd6,Rxd6,Rxd6,Qe7,Rd1,Qe6,Re1,Qe7,Ng3,Rg5,h4,Nf3+,Kf2,Qxe3+,Rxe3,Nxh4,Re7', 'Rxg3,Kxg3,Nf5+,Kf4,Nxe7', 'https://lichess.org/training/GDDcY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gdDKp', 'Rapid', 'toloyka', 1837, 'djordjeviclena', 1786, 'd4,d5,Bf4,Nf6,Nf3,Nc6,e3,Bf5,Bd3,Be4,c3,h6,Qc2,Bxd3,Qxd3,Ne4,Nbd2,g5,Be5,f6,Bg3,f5,Be5,Rg8,h3,Qd7,Bh2,h5,Ne5,Nxe5,Bxe5,Bg7,Bxg7,Rxg7,Nf3,O-O-O,a4,f4,Ne5,Qe6,O-O,g4,h4,g3,f3,Qf6', 'fxe4,dxe4,Qxe4', 'https://lichess.org/training/gdDKp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gdejw', 'Rapid', 'Dubolom228', 1934, 'Martian_Champ', 1816, 'b4,d5,Bb2,e6,b5,Nf6,d3,Bd7,a4,a6,c4,axb5,axb5,Rxa1,Bxa1,c6,Nf3,Qa5+,Bc3,Bb4,Bxb4,Qxb4+,Nbd2,cxb5,cxb5,Bxb5,Ne5,O-O,g3,Nc6,Nxc6,bxc6,Bg2,c5,O-O,Bc6,Qc2,e5,Rb1,Qa5,h3,Ba4,Qb2,h6,Ra1,Ra8,Nf3,e4,dxe4,dxe4,Ne5,Qc7,Nc4,Bc6,Rxa8+,Bxa8,e3,Bd5,Nb6,Be6,Na4,c4,Nc3,Qc6,Qb8+,Kh7,Qe5,Nd7,Qxe4+,Qxe4,Bxe4+,f5,Bc6,Ne5,Bb5,g5,Kg2,Kg6,f4,Nd3,fxg5,hxg5,Kf3,Ne5+,Kf2,Bc8,e4,f4,gxf4,gxf4,Nd5,Kg5,Kg2,Be6,Nc3,f3+,Kg3,Nd3,Nd1,Nf4', 'h4+,Kh5,Kxf4', 'https://lichess.org/training/Gdejw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GDFfX', 'Classical', 'Ali197509', 1930, 'bogususername', 2085, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,h3,Nf6,Nc3,a6,d3,h6,Nh2,Be6,Nd5,Na5,Nxf6+,Qxf6,Bxe6,fxe6,Qh5+,Kd7,a3,Nc6,Ng4,Qe7,c3,Qe8,Qh4,Qg6,b4,Bb6,a4,Raf8,Be3,h5,Bxb6', 'hxg4,Qxg4,Qxg4,hxg4,cxb6', 'https://lichess.org/training/GDFfX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GDHj2', 'Rapid', 'Jurezmoodez', 1996, 'LeBlaBlaZ', 2005, 'Nf3,d5,c4,e6,cxd5,exd5,Nc3,Nf6,d4,c6,Bg5,h6,Bxf6,Qxf6,Qb3,Bd6,h3,O-O,e3,Qg6,Nh4,Qg5,Nf3,Qg6,h4,h5,Na4,Nd7,Rc1,Rb8,Nc5,Nxc5,dxc5,Be7,Ne5,Qe6,Nd3,Bd8,Nf4,Qh6,Bd3,Bc7,O-O,Bxf4,exf4,Qxf4,g3,Qg4,Qc2,f5,Be2,Qg6,b4,a6,a4,Re8,Bf3,Be6,b5,axb5,axb5,Bd7,b6,Rbd8,Ra1,Qf7,Ra7,Bc8,Kg2,f4,Qc3,Qg6,Re1,Rxe1,Qxe1,d4,Qe5,d3,Bxh5,Qf6,Qxf6,gxf6,Bd1,Rd5,Ra8,Rd8,Bg4,d2,Bd1', 'Bh3+,Kxh3,Rxa8', 'https://lichess.org/training/GDHj2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GdiRs', 'Blitz', 'realborg', 2464, 'IM Togrul111', 2383, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,h3,Bh5,g4,Bg6,c3,c5,Be3,Nc6,dxc5,Qc7,Bd3,Nxe5,Nxe5,Qxe5,Bb5+,Kd8,Qe2,h5,c6,bxc6,Bb6+,axb6,Qxe5,cxb5,Rg1,hxg4,hxg4,Nf6,Nd2,b4,cxb4,Nd7,Qd4,Bd6,Qxg7', 'Be5,Qxh8+,Bxh8', 'https://lichess.org/training/GdiRs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gdK8V', 'Rapid', 'Logerdahl1171', 1555, 'Artemka_124rus', 1706, 'e4,g6,d4,Bg7,c3,d6,d5,Nd7,Bb5,e5,dxe6,fxe6,Nh3,e5,Bg5,Nf6,Bxf6,Bxf6,Bxd7+,Bxd7,Ng1,O-O,Nf3,Kg7,Nfd2,b5,b4,a5,bxa5,Rxa5,a3,c5,Nb3,Ra4,N3d2,c4,O-O,Bg5,Nf3,Bg4,Nbd2,Qb6,Ra2,Qc5', 'Nxg5,Bxd1,Ne6+,Kf6,Nxc5,dxc5,Rxd1', 'https://lichess.org/training/gdK8V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gDKsU', 'Rapid', 'CarlosCheco', 1809, 'Jeffou86', 1758, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bb4,O-O,Bxc3,dxc3,O-O,b4,Re8,a4,a6,b5,axb5,Bxb5,Nxe4,Qd5,Nxc3,Qc4,Nxb5,Qxb5,d5,Ng5,Nd4,Qd3,Ne6,Qxh7+,Kf8,Nxe6+,Bxe6,Qh8+,Ke7,Bg5+,f6', 'Qxg7+,Kd6,Bxf6', 'https://lichess.org/training/gDKsU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gDLxf', 'Rapid', 'Bulat1997', 1857, 'SSSS57', 1815, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Nc6,Nf3,e6,O-O,Bd6,Nc3,O-O,Bd3,e5,e4,exd4,Ne2,Be5,Nxe5,Nxe5,Nf4,Nxd3,Qxd3,Qe7,h4,Qxe4,Qg3,g6,h5,Kh8,h6,Qe5,Bd2,Qd6,Rae1,Bd7,a3,Rae8,Bb4,Qc6,Bxf8,Rxf8,Re7,Ne4,Qd3,Bf5,Qxd4+,f6,Re1,Ng5,Re8,Rxe8,Rxe8+,Qxe8', 'Qxf6+,Kg8,Qg7#', 'https://lichess.org/training/gDLxf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gDMYk', 'Blitz', 'kap_adnan', 1830, 'alex09051979', 1842, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,Bg4,Bd2,c6,Be2,Qc7,O-O,e6,h3,Bh5,Ne5,Bxe2,Qxe2,Bd6,Bf4,Nbd7,Rae1,Bxe5,dxe5,Nd5,Nxd5,cxd5,c3,O-O-O,Qe3,Kb8,Qd4,Qc5,Qa4,Nb6,Qc2,Qc6,a4,d4,a5,d3,Qd2,Nd5,b4,Nxf4,Qxf4,Qxc3,Rc1,Qd4,Qxf7,Qd7,Qf4,d2,Rcd1,Qd4,Qxd4,Rxd4,f4,Rhd8,Rf2,Kc7,Re2,Kc6,Kf2,Kb5,Ke3,Rd3+,Kf2,Kxb4,Re4+,Kxa5,Rc4,b5,Rc7,a6,Rxg7,b4,g4,b3,f5,b2,Rb7,exf5,gxf5,R8d5,Rxb2,Rxe5', 'Ra1+,Ra3,Rxa3#', 'https://lichess.org/training/gDMYk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gdNDH', 'Classical', 'rinat-gmail', 1807, 'Jean-neige', 1786, 'e4,e5,Nf3,Nc6,c3,Nf6,Qc2,Bc5,d4,exd4,e5,Nd5,Bc4,Nb6,Bxf7+,Kxf7,Ng5+,Ke8,cxd4,Bxd4,Nxh7,Qh4', 'Qg6+,Kd8,Bg5+', 'https://lichess.org/training/gdNDH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gdnNZ', 'Rapid', 'calvingoh', 1706, 'Nalfein666', 1754, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bg5,O-O,Be2,c5,d5,a6,h4,e6,h5,Qc7,h6,Bh8,Bf4,e5,Be3,Nbd7,g4,b5,cxb5,axb5,Nxb5,Qb6,b3,Ba6,Nc3,Bxe2,Qxe2,Qb4,Qc4,Qb7,g5,Ng4,Bd2,f6,Rh4,Nxf2,Rh2,fxg5,Rxf2,Rxf2,Kxf2,Rf8+,Ke2,Nf6,Rf1,Nh5,Rxf8+,Kxf8,Bxg5,Qf7,Qd3,Bf6,Bxf6', 'Nf4+,Kd2,Nxd3', 'https://lichess.org/training/gdnNZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GdNyK', 'Rapid', 'ConwyCastle', 2360, 'Govnar2017', 2277, 'e4,c5,Nf3,d6,Be2,Nf6,Nc3,e6,O-O,Be7,d4,cxd4,Nxd4,O-O,Be3,Nc6,f4,e5,Nb3,exf4,Bxf4,Be6,Bf3,Re8,Kh1,Qc8,Nd4,Bc4,Rf2,Qc7,Rd2,Ne5,Ndb5,Bxb5,Nxb5,Qc4,Nxd6,Bxd6,Rxd6,Nxf3,Qxf3,Nxe4,Rd7,b6,Qb3', 'Nf2+,Kg1,Qxf4', 'https://lichess.org/training/GdNyK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gDOyw', 'Rapid', 'peterkans', 1755, 'Misha52', 1714, 'd4,d5,Bf4,Nc6,h3,Bf5,e3,a6,a3,h6,c4,dxc4,Bxc4,e6,Nf3,Nf6,Nbd2,Bd6,Bxd6,Qxd6,Bb3,O-O,Rc1,b5,O-O,Rfe8,Re1,Ne4,Bc2,Nf6,Bxf5,exf5,Nh4,g6,Qf3,Ne7,Nb3,Ned5,Na5,Rab8,Rc6,Qd7,Rxa6,Ne4,Nxg6,fxg6,Rxg6+,Kh7', 'Qh5,Qg7,Rxg7+', 'https://lichess.org/training/gDOyw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GdOzN', 'Rapid', 'sashakochurka', 1920, 'EtienneDaudin', 1858, 'e4,e6,e5,d5,f4,c5,Nf3,Nc6,d3,f5,Be2,Nh6,Nbd2,Be7,O-O,Ng4,Nb3,O-O,Ng5,Bxg5,fxg5,Ncxe5,Nxc5,Qb6,d4,Rf7,c3,Qd6,b3', 'Nf3+,Rxf3,Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/GdOzN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gdpzc', 'Rapid', 'Spirit_Of_Light', 2208, 'No_soy_yo', 2254, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qa4,Nd5,Qe4,Nb6,Nc3,d5,exd6,Bf5,Qf4,Qxd6,Bb5,Qxf4,Bxf4,Bg7,O-O-O,O-O,Bxc6,bxc6,Ne5,Rac8,f3,f6,Nd3,e5,Be3,Nd5,Bxa7,Nxc3,bxc3,Ra8,Bc5,Rfb8,a3,Bf8,Bb4,Bxd3,Bxf8,Bxc2,Kxc2,Kxf8,Ra1,Ke7,a4,Ke6,c4,Kd6,Kc3,Kc5,Rhd1,Rb4,a5,Rxc4+,Kb3,Rb8+,Ka3,Rc3+,Ka2,Rc2+,Ka3,Rxg2', 'Rac1+,Kb5,Rb1+', 'https://lichess.org/training/Gdpzc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gdq5N', 'Rapid', 'Lyvin', 1980, 'LaybikuQBI', 1945, 'e4,c5,Nf3,d6,d4,Nc6,dxc5,dxc5,Qxd8+,Nxd8,Bb5+,Nc6,Bxc6+,bxc6,Bf4,g6,Nbd2,Bg7,c3,Ba6,Nb3,c4,Nc5,Bc8,Rd1,Bg4,Ke2,e5,Bg3,Ne7,Nd7,Bxd7,Nxe5,Be6,Rd6,Rc8,Rhd1,O-O,Nd7,Rfd8,Nf6+,Bxf6,Rxd8+,Rxd8,Rxd8+,Kg7,Ra8,h5,h4,Nc8,Bb8,Bxh4,Bxa7,f5,exf5,Bxf5,Bd4+,Kf7,g3,Be7,Ra5,Nd6,Bc5,Bd3+,Ke1,Ke6,Ra7,Kd5,Rxe7,Kxc5,Kd2,Ne4+,Ke3,Nf6,Re5+,Kd6,Kd4,Ng4,Re1', 'c5#', 'https://lichess.org/training/gdq5N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gdr9E', 'Blitz', 'megas_marwanos', 1666, 'TheSingingDetective', 1663, 'e4,c5,c3,d6,Bc4,Nf6,Qe2,g6,Nf3,Bg7,d3,Nc6,Nbd2,O-O,Nb3,Bg4,h3,Bd7,O-O,a6,a4,Rb8,Bg5,b5,axb5,axb5,Bd5,e6,Bxc6,Bxc6,Qe3,c4,Nbd4,cxd3,Nxc6,Qc7,Nxb8,Rxb8,Qxd3,h6,Be3,Qc6,Rfe1,g5,Bd2,Rd8,Nh2,d5,exd5,Rxd5,Qc2,b4,c4,Rc5,b3,Nd7,Rad1,Ne5,Ng4,Nxg4,hxg4,Bd4,Bxb4,Re5,Rxe5,Bxe5,Rd8+,Kg7,Bf8+,Kf6,Bxh6,Qb6,Rg8,Bg3,Bxg5+,Ke5,Qe2+,Kd6,Rd8+,Kc7,Qd3', 'Qxf2+,Kh1,Qe1+,Qf1,Qxf1#', 'https://lichess.org/training/gdr9E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GdSB4', 'Rapid', 'Julmarganit', 1897, 'Daniel_Norway', 1985, 'd4,g6,c4,Bg7,e4,d6,Nc3,Nf6,Nf3,O-O,Bd3,Nbd7,O-O,c5,d5,a6,h3,Ne8,Qc2,Ne5,Nxe5,Bxe5,b3,f5,Bb2,fxe4,Nxe4,Bxb2,Qxb2,Nf6,Rae1,Nxe4,Bxe4,Bf5,Bxf5,Rxf5,Re3,Qf8,Rfe1,Re8,Qe2,Rf7,a4,a5,f4,Rxf4,Rxe7', 'Rxe7,Qxe7,Rf1+,Rxf1,Qxe7', 'https://lichess.org/training/GdSB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GdSDg', 'Blitz', 'aleks_2901', 1922, 'bji', 1924, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Qg6,Bf3,Nc6,Nge2,Bd7,O-O,O-O-O,d3,e5,Ng3,a6,Nce4,f5,Bh5,Qe6,Ng5,Qd5,c4,Qa5,Nf7,g6,Nxh8,gxh5,Qxh5,Nd4,Qxh7,Nf6,Qf7,Qc5,Qxf6,f4,Ne4,Qa5,Nf7,Re8,Bd2,Qa4,Nxe5,Be7,Qg6,f3,Nxd7,Qxd7,b4,Kb8,a4,Qd8,Be3,Rg8,Qh5', 'Ne2+,Kh1,fxg2#', 'https://lichess.org/training/GdSDg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gdswj', 'Rapid', 'alidord', 1615, 'defrost', 1612, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,e5,Nf3,a6,O-O,Be7,Bg5,h6,Bxf6,Bxf6,Nc3,O-O,Nd5,Be6,c4,b5,cxb5,Bxd5,exd5,axb5,Bxb5,Qb6,a4,e4,Nd2,Bxb2,Rb1,Be5,Nxe4,Qc7,Rc1,Qb6,Rb1,Qc7,Qf3,Nd7,Rfc1,Qd8,Qf5,Nf6,Bc6,Ra5,Nxf6+,Bxf6,Bb7,Rxa4,Rc8,Qe7,Rbc1,Re4', 'Rxf8+,Qxf8,Qxe4', 'https://lichess.org/training/gdswj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GDT21', 'Rapid', 'CAnzar', 1691, 'trickjarrett', 1710, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Nf3,Bb4,Qd3,Qe7+,Be2,Ne4,Bd2,O-O', 'Nxd5,Bxd2+,Nxd2', 'https://lichess.org/training/GDT21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gdv7L', 'Rapid', 'Alsdf', 1847, 'bibo22', 1856, 'c4,e5,Nc3,Bc5,g3,c6,Bg2,Nf6,Nf3,d6,O-O,O-O,d3,h6,a3,a6,Na4,Ba7,Bd2,Bg4,Nc3,Nbd7,Qc1,Kh7,b4,Rc8,a4,Ng8,b5,cxb5,axb5,a5,Nd5,b6,Qc2,Be6,d4+,g6,dxe5,Bxd5,exd6,Bxc4,Qe4,Ndf6,Qh4,Qxd6,Bf4,Qe7,Ne5,Be6,Nc6,Qc5,Nxa7,Ra8,Bxa8,Rxa8,Nc6', 'g5,Bxg5,Qxg5', 'https://lichess.org/training/Gdv7L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gdWN3', 'Rapid', 'rbsajedrez', 1845, 'K-Marx', 1975, 'Nf3,e6,c4,Nf6,g3,b6,Bg2,Bb7,O-O,Be7,d4,d6,Nc3,O-O,Bg5,h6,Bxf6,Bxf6,e4,e5,dxe5,dxe5,Qc2,Na6,a3,Nc5,Rad1,Qe7,b4,Ne6,Nd5,Bxd5,exd5,Nd4,Nxd4,exd4,d6,Qxd6,Bxa8,Rxa8,Qe4,Rd8,Rd3,c5,b5,g6,f4,Kf8,Re1,Kg7,a4,Qd7,Qf3,Kh7,Re4,Kg7,Qe2,Kh7,h4,Kg7,Qg2,Kh7,Kh2,Kg7,Qh3,Qd6,Qg2,a6,Qf3,axb5,axb5,Ra8,Ra3,Rxa3,Qxa3,d3,Re3', 'd2,Rd3,d1=Q', 'https://lichess.org/training/gdWN3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gDWXN', 'Bullet', 'wiesijo', 1657, 'STEFANIJA51', 1661, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d5,Nxc6,bxc6,exd5,Qxd5,Qxd5,cxd5,Nc3,e6,Be3,Nf6,O-O-O,a6,Na4,Rb8,Nb6,a5,Bb5+,Nd7,Nxd7,Bxd7,Bxd7+,Kxd7,Rd4,Bc5,Ra4,Bxe3+,fxe3,Ra8,Rd1,Kc6,Rd3,Rhb8,Rda3,Rb5,b3,Kb6,c4,dxc4,Rxc4,Rc5,Rxc5,Kxc5,Ra4,Kb5,Rc4,a4,Rc7,axb3,axb3,Ra2,Rxf7,Rxg2,Re7,Rxh2,Rxe6,Kb4,Re7,Kxb3,Rxg7,Kc3,e4', 'Rh1+,Rg1,Rxg1#', 'https://lichess.org/training/gDWXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GDxHM', 'Rapid', 'YHYA83', 1840, 'JKobiel', 1701, 'e4,g6,Nf3,Bg7,d4,d6,c3,Nf6,Nbd2,O-O,g3,Bg4,h3,Bxf3,Qxf3,Re8,Bg2,e5,O-O,Nbd7,Nb3,b6,Bg5,Qc8,Qe3,Nf8,f4,h6,fxe5,dxe5,Bxf6,Bxf6,Rxf6,Nh7,Rf2,Kg7,Raf1,Re7,dxe5,Ng5,h4,Nh3+,Bxh3,Qxh3,Nd4,Rf8,Rh2,Qg4,Rf4,Qd1+,Kg2,c5,Nf3,Rd8,Ng5,hxg5,Rf2,g4,Qg5,Red7,Qf6+,Kg8,h5,Rd2,Qxf7+,Kh8,Qf6+,Kg8,Qxg6+,Kh8,Qf6+,Kg8,h6', 'Rxf2+,Qxf2,Rd2,Qxd2,Qxd2+', 'https://lichess.org/training/GDxHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GDy9X', 'Classical', 'vranishjoti', 1861, 'Aleksey_IgNaToB', 1854, 'd3,Nf6,e3,g6,a3,Bg7,Nd2,d6,h3,O-O,Be2,Nbd7,g4,e5,h4,Re8,g5,Nd5,Bf3,c6,Bxd5,cxd5,Qf3,Nb6,Qg3,e4,d4,f6,h5,fxg5,hxg6,h6,b3,Qf6,Bb2,Qxg6,O-O-O,h5,Nh3,Bg4,Rde1,Rf8,Rh2,Rf7,Bc3,Raf8,Bb4,Nc8,Kb2,Bxh3,Qxh3,Rxf2', 'Rxf2,Rxf2,Qxc8+', 'https://lichess.org/training/GDy9X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gDyMh', 'Rapid', 'Sicilian_Expert1', 1888, 'balandvlad', 1861, 'd4,d5,Bf4,Nc6,Nf3,g6,e3,Bg7,Bb5,Bd7,c4,a6,Bxc6,Bxc6,cxd5,Bxd5,Nc3,Nf6,Nxd5,Nxd5,Bg3,O-O,O-O,Rc8,e4,Nb4,Qa4,Nc6,d5,Na7,Rab1,Nb5,Qb3,Qd7,a4,Nd6,Bxd6,cxd6,Rfc1,b5,axb5,axb5,Rc2,Rxc2,Qxc2,Rc8,Qd2,Qc7,Nd4,Bxd4,Qxd4,Qc1+,Qd1,Qf4,Qe2', 'Rc1+,Rxc1,Qxc1+,Qf1,Qxb2', 'https://lichess.org/training/gDyMh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gdzx8', 'Rapid', 'hakannfeelv3', 1950, 'DragonflyGambit', 2005, 'e4,Nf6,d4,Nxe4,Bd3,Nf6,Bf4,Nc6,Nf3,d5,O-O,Bg4,c3,e6,Nbd2,Bd6,Bg3,Ne7,Bxd6,Qxd6,h3,Bh5,Qc2,Bg6,Ne5,Bxd3,Qxd3,Ng6,Ndf3,Ne4,Qb5+,Ke7,Qxb7,Rhb8', 'Nc6+,Qxc6,Qxc6', 'https://lichess.org/training/Gdzx8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ge0vv', 'Classical', 'cheap0102', 1737, 'vladimirzozulya1500', 1897, 'e4,d5,exd5,Qxd5,Ne2,Nf6,Ng3,Nc6,Nc3,Bg4,Nxd5,Bxd1,Nxf6+,exf6,Kxd1,O-O-O,Bc4,Ne5,Bb3,Bd6,Nf5,Ng4,Nxd6+,Rxd6,Ke2,Re8+,Kf3,Ne5+,Kg3,g5,Re1,h5,h3,h4+,Kh2,Ng4+,hxg4,Rxe1,Bxf7,Kd7,d3,a5,b3,b5,Bb2,Rxa1,Bxa1,Ke7,Bg6,Re6,Be4,c5,Kg1,c4,bxc4,bxc4,Kf1,Rb6,Ke2,cxd3+,cxd3,Rb1,Bc3,a4,a3,Rg1,Bd2,Rb1,Ke3,Kd6,Bc3,Rb3,Bb4+', 'Rxb4,axb4,a3', 'https://lichess.org/training/ge0vv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ge2KL', 'Rapid', 'TENDERHORSE', 1852, 'Vadim7926', 1850, 'd4,d5,Nf3,c5,e3,Nf6,b3,Nc6,a3,e6,Bb2,cxd4,exd4,Bd6,Ne5,Nd7,f4,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/ge2KL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GE3RF', 'Blitz', 'zebj70', 1560, 'vinit007', 1511, 'e4,c5,d3,Nc6,Nf3,d5,Nbd2,dxe4,dxe4,Nf6,g3,e5,Bg2,Bd6,O-O,O-O,Nc4,Be7,Ncxe5,Nxe5,Nxe5,Re8,Nc4,Bg4,f3,Be6,Qe2,b5,Ne3,c4,Rd1,Qb6,Kh1,Bc5,e5,Nd7,f4,Rac8,Nd5,Bxd5,Bxd5,Bd4,c3,Bf2,Bxf7+,Kxf7,Rxd7+,Kf8,Qg4,Re7,Rxe7', 'Qc6+,Qf3,Qxf3#', 'https://lichess.org/training/GE3RF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ge4K7', 'Rapid', 'panoskaragiannis', 1765, 'mxklawz', 1795, 'd4,e5,dxe5,Nc6,Nf3,Qe7,e3,Nxe5,Nxe5,Qxe5,Bc4,Bb4+,c3,Bd6,Qf3,Nf6,Nd2,c6,Nf1,b5,Bb3,O-O,Ng3,a5,a3,Ba6,O-O,a4,Ba2,b4,cxb4,Bxf1,Kxf1,Qb5+,Qe2,Qxe2+,Nxe2,Bxh2,g3,Rfe8,Kg2,Ng4,Bb1,g6,Bd3,Re5,Bd2,Rd5,Nf4,Rd6,Rd1,g5,Bf5,gxf4', 'Bxg4,Bxg3,fxg3', 'https://lichess.org/training/Ge4K7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gE4Oi', 'Classical', 'MoldyDolphin', 1859, 'DrallyLeo', 1928, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,h3,Bxe2,Ngxe2,Nc6,O-O,O-O-O,Re1,e6,d3,Nb4,Ng3,Qf6,a3,Nd5,Nge4,Qg6,Nb5,a6,Nbc3,Nxc3,Nxc3,Bc5,Be3,Bxe3,Rxe3,Nf6,Rg3,Qh6,Qf3,Rdg8,Ne4,Nxe4,Qxe4,f5,Qe3', 'f4,Qa7,fxg3', 'https://lichess.org/training/gE4Oi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ge7w5', 'Rapid', 'lordofthenight', 2117, 'anasayan', 2229, 'e4,c5,Nf3,e6,c4,Nc6,Nc3,Nf6,a3,Be7,d4,cxd4,Nxd4,O-O,Be3,d6,Be2,a6,Qd2,Nxd4,Bxd4,e5,Be3,Ng4,Nd5,Nxe3,Qxe3,Be6,O-O,Bxd5,cxd5,Rc8,Rac1,Rxc1,Qxc1,Qd7,f4,Rc8,Qe3,exf4,Qxf4,Bf6', 'Bg4,Qd8,Bxc8', 'https://lichess.org/training/ge7w5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ge9Vk', 'Rapid', 'FootstepsAtThePond', 1614, 'Hakeemo', 1635, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,Bd3,d6,O-O,c5,c3,Bg4,Nbd2,b6,h3,Bxf3,Qxf3,Nbd7,a3,e5,dxe5,dxe5,Bg3,Re8,e4,Nh5,Bh2,f5,Rfd1,f4,Bc4+,Kh8,b4,Rc8,Ba6,Rc7,Nc4,Qe7,Bb5,Rd8,Nd6,Nb8,Qd3,Nc6,g3,g5,g4,Nf6,Nf5', 'Rxd3,Nxe7,Rxd1+', 'https://lichess.org/training/ge9Vk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GEahg', 'Rapid', 'Armonia', 1698, 'MiNombreEsNinguno', 1686, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d6,h3,O-O,e3,Nbd7,Bd3,e5,d5,Nc5,Bc2,a5,a3,Bd7,O-O,Ne8,e4,f5,exf5,Bxf5,Bxf5,Rxf5,Re1,a4,Be3,Nb3,Rb1,c6,Nd2,Na5,dxc6,Nxc6,Nd5,Nf6,f3,Nxd5,cxd5,Ne7,Ne4,Ra5,Nc3,Qd7,Bf2,Rf8,b4,axb3,Qxb3,Rfa8,a4,b5,Bb6,R5a6,Nxb5,Rxb6,Rec1,Rb7,Rc4,Rc8,Rbc1,Rxc4,Rxc4,Nxd5,Rh4,Qf7,a5,Nc7', 'Qxf7+,Kxf7,Nxd6+,Ke7,Nxb7', 'https://lichess.org/training/GEahg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gEbin', 'Rapid', 'Peondemente', 1689, 'kingflicker', 1696, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,c4,Bg7,e5,Bg4,Qe2,Qc7,d3,Bxe5', 'Qxe5,Qxe5+,Nxe5', 'https://lichess.org/training/gEbin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GEc19', 'Rapid', 'BENJIBANDS', 1772, 'henbra', 1792, 'd4,d5,c4,Bf5,Nc3,e6,Qb3,b6,cxd5,exd5,Nxd5,Be6,Qa4+,c6,Nf4,b5,Qd1,Bb4+,Bd2,Qa5,Nxe6,fxe6,Nf3,Nd7,e3,Ngf6,Bd3,O-O,O-O,Bxd2,Nxd2,Nd5,Nb3,Qa6,a3,Qb7,Qh5,N7f6,Qh3,Qe7,Rac1,Rac8,Nc5,Nc7,e4,Nd7,e5,g6,Nxd7,Qxd7,Qg4,Nd5,g3,Ne7,h4,Nf5,h5,Qxd4', 'Bxf5,Qxg4,Bxg4', 'https://lichess.org/training/GEc19');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gee6f', 'Rapid', 'Jbdrainbow', 1849, 'Darkness82', 1645, 'd4,g6,Nf3,Bg7,g4,e5,dxe5,d5,g5,c5,c3,Nc6,Qa4,Bd7,Qb5,Nd4,Qxc5,Nxf3+,exf3,Bxe5,Qxd5,Bg7,Be3,Ne7,Qc4,Rc8,Qb3,O-O,Nd2,b6,O-O-O,Qc7,Bc4,Nc6,Ne4', 'Na5,Qa3,Nxc4', 'https://lichess.org/training/Gee6f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GEEBk', 'Classical', 'mehr13-mir48', 1742, 'gamsuy0', 1812, 'd4,g6,c4,Bg7,Nf3,Nf6,Nc3,d6,e4,Nc6,Be3,Bg4,h3,Bd7,Be2,b6,a3,O-O,O-O,Re8,Rc1,e5,dxe5,Nxe5,Nxe5,Rxe5,Bd4,Re7,Bf3,Bc6,Re1,a6,Nd5,Re8,Nxf6+,Bxf6,Bxf6,Qxf6,Qc2,Re5,Re3,Rae8,Rce1,Qe7,g4,Qg5,Bg2,h5,Qe2,hxg4,hxg4,Kg7,Rf1,b5', 'f4,Qd8,fxe5', 'https://lichess.org/training/GEEBk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GeFsQ', 'Rapid', 'Garry_GSP', 1670, 'ladary', 1686, 'd4,e6,Bf4,d6,Nf3,Qf6,e3,e5,dxe5,dxe5,Bxe5,Qb6,Bd4,Bc5,b3,Bxd4,Nxd4,Nf6,Bc4,O-O,O-O,Qd6,Nf3,Qc6,a4,Bg4,Nbd2,Ne4,Nxe4,Qxe4,Qd5,Bxf3,Qxe4,Bxe4,f3,Bxc2,Rf2,Bg6,e4,Nc6,Rd2,Rad8,Rad1,Rxd2,Rxd2,Nb4,Kf2,c5,Rd7,Rb8,h4,h5,g4,hxg4,fxg4,Nc6,h5,Bxe4,Rxf7,Rf8,Rxf8+,Kxf8,Ke3,Bh7,Kf4,a5,Kg5,Ne5,Kf4,Nd7,g5,Ke7,g6,Nf6,gxh7,Nxh7,Kf5,Nf6,Kg6,Kf8', 'h6,gxh6,Kxf6', 'https://lichess.org/training/GeFsQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gegEz', 'Rapid', 'FischerForever', 2092, 'alquimista51', 2031, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,d4,exd4,Nxd4,Bd7,Bxc6,bxc6,Nc3,Be7,Bg5,O-O,f4,h6,Bh4,Rb8,b3,Nxe4,Bxe7,Qxe7,Nxe4,Qxe4,f5,c5,Nf3,Qxf5,c4,Qg6,Qd2,Rfe8,Rf2,Bc6,Raf1,Bxf3,Rxf3,Re7,Kh1,Rbe8,Rg3,Qh5,Qc3,Qe5,Qf3,Qe2,Qxe2,Rxe2,Rgf3,Rxa2,Rxf7,Ree2,Rf8+,Kh7,Rg1,Rab2,h4,Rxb3,Rf4,a5,Rgf1,Rbb2,Rg4,Kg8,h5,a4,Ra1,Ra2,Rb1,Rab2,Ra1,Rb4,Ra3,Rc2,Rag3,Rcxc4,Rxg7+,Kf8,Rxc7,Rb1+,Kh2,Rh4+,Rh3,Rxh3+,Kxh3,a3,Ra7,Rb3+,Kg4,c4,Kf5,d5,Kf6,Rb6+,Ke5,c3,Rxa3,c2,Rc3,Rb2,Kxd5,Ke7,g4,Kf6,Ke4,Kg5,Kf3', 'Rb3,Rxb3,c1=Q', 'https://lichess.org/training/gegEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gEgU3', 'Blitz', 'DatTrollGuy', 1650, 'Fenique13', 1663, 'd4,c5,dxc5,Nc6,Nc3,f6,e4,e5,Nf3,Bxc5,Bc4,Nge7,O-O,b6,Re1,Bb7,a3,Na5,Ba2,Qc7,b4,Bxf2+,Kxf2,Qxc3,Bd2,Qb2,bxa5,Rc8,Bb3,Nc6,axb6,axb6,Qe2,Nd4,Nxd4,Qxd4+,Be3,Qd6,Red1,Qc6,Bd5,Qc7,Bxb7,Qxb7,Qb5,O-O,Kg1,Kh8,Rxd7,Qc6,Qxc6,Rxc6,Ra2,Rfc8,Rb7,h5,Rxb6,Rxc2,Rxc2,Rxc2,Rb8+,Kh7,Rb1,Ra2,Bc5,Kg6,Rc1,Kg5,Rc4,Kf4,a4,g5,Bb6,h4,a5,g4,Rc5,h3,gxh3,gxh3,Bc7,Kf3,Rc6', 'Ra1+,Rc1,Rxc1#', 'https://lichess.org/training/gEgU3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('geHb9', 'Rapid', 'jackens', 1748, 'amaks', 1721, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,d3,h6,a4,g5,h3,d6,Nh2,g4,Nxg4,Nxg4,hxg4,Rg8,f3,Nd4,c3,Ne6,Bxe6,Bxe6,Bxh6,Qd7,Be3,a6,b4,O-O-O,Nd2,d5,exd5,Bxd5,Ne4,f5,gxf5,Qxf5,Qc2,Bxe4,dxe4,Qh5,Rad1,Rh8,Rxd8+,Bxd8,Rd1', 'Qh1+,Kf2,Bh4+,Ke2,Qxg2+', 'https://lichess.org/training/geHb9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('geHGT', 'Rapid', 'Secondoftwo', 2060, 'Jesus33', 2066, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,Be7,O-O-O,O-O,h3,Qd7,g4,Qe6,Rde1,Rfe8,e5,dxe5,Rxe5,Qc8,Rxe7,Rxe7,Bxf6,gxf6,Qxf6,Re6,Qf4,Qd8,Rd1,Qe7,Qg5+,Qxg5+,Nxg5,Re5,f4,Re3,Rd3,Re1+,Kd2,Rae8,Nf3,Rh1,Ne5,Rh2+,Kc1,f5,Nxc6,bxc6,gxf5,Re1+,Nd1,Kf7,b3,h5,Kb2,Reh1,Rd7+,Ke8,Rd4,c5,Re4+,Kf7,Ne3,Rxh3,Nd5,c6,Ne7,Rf3,Nxc6,h4', 'Ne5+,Kf6,Nxf3', 'https://lichess.org/training/geHGT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GEhnL', 'Rapid', 'Sipo', 1849, 'Kassios5', 1774, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,a6,Be3,e6,Nxc6,bxc6,Bc4,h6,Bb3,Nf6,Qd2,Be7,f3,O-O,O-O-O,c5,Kb1,Bb7,Bxh6,gxh6,Qxh6,Nh7,f4,Bf6,Rd3,Bg7,Rg3,Qf6,Qh3,Qxf4,Rf3,Qh6,Qg3,Ng5,Rf4,Be5,h4,Qh5,Rhf1,Bxf4,Rxf4,Rfc8,Rg4,Kf8,Rxg5,Qh6,Qf4,Ke7,Nd5+,Bxd5,exd5,e5', 'Rxe5+,dxe5,Qxh6', 'https://lichess.org/training/GEhnL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GeHpW', 'Rapid', 'Spillpants', 1974, 'tf235', 1835, 'd4,d5,Nf3,Bf5,Bg5,Nf6,Nbd2,e6,e3,c5,c3,Nc6,Bb5,Qb6,Qa4,a6,Ne5', 'Qxb5,Qxb5,axb5', 'https://lichess.org/training/GeHpW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GEJSY', 'Classical', 'himanshu31', 1737, 'mtsf1991', 1677, 'e4,c5,Bc4,e6,c3,Nc6,d4,d5,exd5,exd5,Bd3,Nf6,Nf3,Be7,O-O,O-O,Qc2,c4,Be2,Ne4,Bxc4,Bf5,Bd3,Qd7,Re1,Rac8,Nbd2,Nb4,Ne5', 'Nxc2,Nxd7,Nxe1', 'https://lichess.org/training/GEJSY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GEK3L', 'Rapid', 'gretr', 1824, 'sobe547', 1718, 'c4,e6,Nf3,Be7,Nc3,d6,g3,Nd7,Bg2,a6,O-O,Ngf6,d4,c6,Bf4,O-O,e4,e5,dxe5,dxe5,Nxe5,Qb6,Qc2,Nh5,Be3,Bc5,Nxd7,Bxd7,Na4,Qd8,Bxc5,Re8,Bb6,Qc8,c5,Nf6,Nc3,Bh3,Rad1,Bxg2,Kxg2,Qg4,Rfe1,Qh5,e5,Ng4,h3,Nxe5,g4,Qh4,Bc7,Ng6,Qf5,Qh6,Ne4', 'Nh4+,Kg3,Nxf5+', 'https://lichess.org/training/GEK3L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GekGR', 'Rapid', 'BOBBY0021', 1794, 'BastiDC', 1602, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,Be3,b6,Nc3,h6,O-O-O,Ne7,Nb5,Nc6,Nd6+,Bxd6,Qxd6,Qe7,Bf4,g5,Bg3,O-O,Qxe7,Nxe7,h4,g4,h5,Re8,Bf4,Kg7,Bb5,Nc6,e5,a6,Be2,Bb7,Bxg4,Na5,f3,Bd5,b3,Rac8,Kb2,b5,c3,Rc6,Rd3,Rb8,Rhd1,Nc4+,bxc4', 'bxc4+,Kc2,cxd3+', 'https://lichess.org/training/GekGR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gely3', 'Rapid', 'harvkeitel', 1632, 'chilos', 1687, 'c4,Nf6,d3,g6,g3,Bg7,Nf3,O-O,Bg2,d5,cxd5,Nxd5,O-O,c5,Bd2,Bg4,Nc3,Nb4,a3,N4c6,Rb1,Na6,Be3,Bxf3,Bxf3,Qd7,Qd2,Nd4,Bg2,Nb3,Qc2,Nd4,Bxd4,cxd4,Ne4,f5,Nc5,Nxc5,Qxc5,Kh8,Qb4,Rab8,Rbc1,e5,Rc2,b6,Rfc1,Rfc8,Bd5', 'Rxc2,Rxc2,Qxd5', 'https://lichess.org/training/gely3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gEN07', 'Classical', 'anand1973', 1757, 'Ecktor', 1792, 'd4,d5,c4,e6,a3,Nf6,Bg5,Be7,e3,O-O,Nf3,c6,c5,Qa5+,b4,Qc7,Bd3,Nbd7,Nbd2,a6,Qc2,b6,cxb6,Qxb6,Bxh7+,Kh8,Bd3,Re8,Ne5,Nxe5,dxe5,Nd7,Bxe7,Rxe7,Nf3,a5,Rb1,Qc7,O-O,Nxe5,Nxe5,Qxe5,Qxc6,Bb7,Qc5,Rc7,Qb6,Rac8,bxa5,Qc3,Rb3,Qe5,g3,Ba8,a6,d4,e4,Bxe4,Bxe4,Qxe4,Rd1,Rc1,Rd3', 'Qxd3,Rxc1,Rxc1+', 'https://lichess.org/training/gEN07');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gencP', 'Bullet', 'Raja_Ilato', 1928, 'Riderglingo', 1953, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,Bg7,c4,O-O,cxb5,axb5,Bxb5,Nd4,O-O,Rxa3,bxa3,Nxb5,a4,Nd4,Rc1,f5', 'Rxc8,Qxc8,Ne7+,Kh8,Nxc8', 'https://lichess.org/training/gencP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('geo3Z', 'Blitz', 'mbakkor', 2408, 'IM Valandir', 2460, 'b3,Nf6,Bb2,g6,e3,Bg7,Nf3,O-O,d4,d6,Bd3,c5,O-O,Nc6,d5,Nxd5,Bxg7,Kxg7,Bxg6,hxg6,Qxd5,Qd7,Nc3,Qf5,Qd2,Rh8,h3,Qh5,Ne4,Bxh3,Ng3,Qg4,Nh2,Qh4,Nf3,Qh6,gxh3,Qxh3,Rfd1,Rh6,Qe2,Rah8,Qf1,Qe6,Qg2,Ne5,Nxe5,Qxe5,c4,Qf6,Rac1,Rh2,Qxh2,Rxh2,Kxh2,Qxf2+,Kh3,Qxe3,Re1,Qh6+,Kg2,Qd2+,Kh3,Kf8,Ne4,Qxa2,Rc3,a5,Rf3,Qc2,Ng5,f6,Ne6+,Kf7,Nd8+,Kg7,Nxb7,e5,Nxd6,g5,Ne4,g4+,Kxg4,f5+,Kxf5,Kf7,Kxe5+,Ke7,Rg1,Qb2+,Kd5', 'Qd4+,Kc6,Qxe4+,Kxc5,Qxf3', 'https://lichess.org/training/geo3Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GEOuf', 'Rapid', 'adhiraj_m', 1826, 'Wiskler', 1787, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,c4,f5,Bd3,f4,Nc3,a6,O-O,Bd7,b3,h6,Bb2,g5,Ne2,Ng6,Qc2,b6,Bc3,h5,Qb2,g4,Nxe5,Nxe5', 'Bxe5,dxe5,Qxe5+,Qe7,Qxh8', 'https://lichess.org/training/GEOuf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('geowf', 'Rapid', 'lucasindus', 1925, 'Y-so-stronk', 1882, 'e4,e5,Nf3,d6,Bc4,Be7,c3,Nf6,d3,O-O,h3,Nc6,b4,a6,Bg5,b5,Bb3,a5,bxa5,Rxa5,Nbd2,b4,Nc4,Ra7,cxb4,Nxb4,O-O,h6,Bh4,Nh7,Bxe7,Qxe7,d4,exd4,Qxd4,Nc6,Qe3,Ra8,Ncd2,Nf6,Nd4,Bb7,f4,Nxd4,Qxd4,c5,Qd3,Ra3,Bxf7+,Rxf7,Qxa3,Nxe4,Nxe4,Bxe4,Rae1,d5,Qa8+,Kh7,a4,Qf6,Qa5,Qd4+,Kh1,Qd3,Qxc5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/geowf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gEpaP', 'Rapid', 'manuelsenior', 1777, 'carlosnicandro', 1797, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,e5,Nb5,Nc6,c4,Be7,Be2,a6,N5c3,O-O,Be3,Bd7,Nd5,Nxd5,cxd5,Nd4,Bxd4,exd4,Qxd4,Bf6,Qd2,Qb6,Nc3,Bd4,Rb1,f5,Bd3,fxe4,Bxe4,Rae8,Ke2,Bb5+,Nxb5,Rxe4+,Kd1,Qxb5,fxe4,Rf2,Qxd4', 'Qe2+,Kc1,Qc2#', 'https://lichess.org/training/gEpaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gept9', 'Rapid', 'Heinzchen', 1708, 'dabc123', 1724, 'e4,e6,f4,d5,exd5,exd5,Nf3,Nf6,d4,Nc6,Bb5,Bd7,O-O,Be7,Nc3,O-O,Ne5,Nxe5,fxe5,Bxb5,Nxb5,Ne4,Nc3,Nxc3,bxc3,c6,Qd3,Bg5,c4,Bxc1,Raxc1,Qd7,cxd5,Qxd5,c4,Qd7,d5,cxd5,cxd5,Rad8,d6,Qe6,Qf5,Qxa2,Ra1,Qb2,Rxa7,b5,Rb1,Qd4+,Kh1,Rb8,Rf1,Qc4,d7,b4,e6,fxe6', 'Qxf8+,Rxf8,Rxf8+,Kxf8,d8=Q#', 'https://lichess.org/training/Gept9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gEqW2', 'Classical', 'Rookeer', 1680, 'TS1990', 1663, 'd4,Nf6,Bf4,d6,Nf3,Bg4,e3,Nbd7,h3,Bxf3,Qxf3,e5,dxe5,dxe5,Bg5,c6,Bc4,e4,Qf5,g6,Qf4,Qa5+,Nc3,Bb4', 'Bxf6,Nxf6,Qxf6', 'https://lichess.org/training/gEqW2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gESVN', 'Blitz', 'Dr_Durkenstein', 2723, 'GM NIndja64', 2814, 'd4,g6,c4,Bg7,Nc3,d6,e4,e5,Nf3,Bg4,dxe5,Bxf3,Qxf3,dxe5,Be3,Nc6,Nd5,Nd4,Bxd4,exd4,O-O-O,c6,Nf4,Ne7,Kb1,O-O,h4,h6,Nd3,c5,g4,Nc6,g5,h5,Nxc5,Re8,Nd3,Qe7,Bg2,Ne5,Nxe5,Bxe5,Qb3,Qc7,Rhf1,Rad8,Rd2,Bf4,Rd3,Rd7,Rfd1,Red8,Qb5,a6,Qb4,Be5,Bh3,Re7,f3,a5,Qb5,Bg7,Rb3,Qg3,Bf1,Qxh4,Qxa5,Rde8,Qd5,Qf2,c5,h4,Bh3,Qg3,Rh1,d3,Qxd3,Qxg5,Qc2,Rc7,Qf2,Qf6,Rb4,Re5,Rc1,Rg5,f4,Rg3,e5,Qc6,Bf1,Qd5,Rd4,Qe6,Bg2,Qf5+,Be4,Qg4,Rd8+,Kh7,Rd4,h3,Bh1,Bh6,Re1,Qf5+,Ka1,Qg4,Be4,Qxf4', 'Bxg6+,Rxg6,Rxf4', 'https://lichess.org/training/gESVN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GET9q', 'Blitz', 'FM renanreis', 2297, 'AMIN_BLUES', 1944, 'e4,e5,Nc3,Nc6,Nf3,Bc5,Bc4,d6,d3,h6,a3,Bg4,h3,Bh5,Na4,Nd4,g4,Nxf3+,Qxf3,Bg6,Nxc5,dxc5,Be3,b6,Qg3,Qd6,O-O-O,Ne7,f4,exf4,Bxf4,Qd7,Bxc7,b5,Ba2,a5,Qd6,b4,Bd5,Rc8,Qxd7+,Kxd7,Bxa5,bxa3,bxa3,Nxd5,exd5,Ra8,Bc3,f6,Bb2,Rhc8,Rhe1,c4,Kb1,c3,Bc1,Rab8+,Ka1,Rb5,Re6,Rcb8,Rde1,Rb1+,Ka2,R8b5,Re7+,Kd8,Rxg7,Be8,d6,Bc6,a4', 'Bd5+,Ka3,Ra1#', 'https://lichess.org/training/GET9q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GEU9l', 'Blitz', 'jankae', 1864, 'sedibuc', 1906, 'e4,e5,f4,Nf6,d3,d5,fxe5,Ng4,exd5,Nxe5,Qe2,Qxd5,Nc3,Bb4,Bf4,Bxc3+,bxc3,Bg4,Qxe5+,Qxe5+,Bxe5,O-O,Be2,Be6,Bxc7,Nc6,Nf3,Rac8,Bf4,Rfe8,O-O,a6,a3,Na5,Rab1,Rxc3,Be5,Rxc2,Nd4,Ra2,Bd6,Bd5,Bf3,Bxf3,Rxf3,h5,Rbf1,f6,Nf5,Ree2,Rg3,g5,Be7,h4,Rg4,Nc6,Bxf6,Kf7,Bxg5,Ke8,Bxh4,Ne5,Rg8+,Kd7,Nh6,Kc6,Rc1+,Kb6,Bf6,Nxd3,Bd4+,Kb5,Rb1+,Ka4,Rb8,Rxg2+,Kf1,Rxh2,R8xb7', 'Rh1+,Bg1,Rf2#', 'https://lichess.org/training/GEU9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('geUeN', 'Rapid', 'Sombra1984', 1669, 'grangra', 1648, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,Nc3,O-O,h4,h6,Ng5,Nh7,Nxh7,Kxh7,Qg4,d5,Qg3,dxc4,Nd5,f5,h5,fxe4,Qg6+,Kg8,Bxh6,Bf6,dxe4,Ne7', 'Nxf6+,Rxf6,Qxg7#', 'https://lichess.org/training/geUeN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gew6R', 'Rapid', 'Eyup_Ensar_Yildiz', 1811, 'schinga', 1839, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Be7,a4,Qc7,Bb3,Nc6,O-O,O-O,Re1,Re8,h3,Bd7,Nxc6,Bxc6,Qe2,h6,Bh4,Rad8,Rad1,Rd7,Kh1,Red8,f4,d5,exd5,Nxd5,Bxd5,Bxd5,Nxd5,Rxd5,Rxd5,Rxd5,Bxe7,Qxe7,Qe4,Qd7,c3,Rd2,b3,Qd5,Qxd5,Rxd5,Re3,Kf8,Kg1,Ke7,Kf2,Kd7,Ke2,a5,g4,b6,Rd3,Kc6,Ke3,f6,Rxd5,Kxd5,Kd3,g6,h4,e5,Ke3,f5,h5,gxh5,gxf5,h4,Kf3,h3,f6,h2', 'Kg2,Ke6,fxe5,h1=B+,Kxh1', 'https://lichess.org/training/Gew6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gEXaz', 'Rapid', 'society', 1938, 'HaPPy06', 1737, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,Be7,d3,Nf6,h3,O-O,Bg5,Nh5,Bxe7,Qxe7,Nxe5,Nf4,Nxc6,bxc6,Qf3,Qg5,Re1,Bxh3,g3,Nh5,Nc3,Rad8,Ne2,Bg4,Qg2,Kh8,f3,Bd7,Kf2,f5,Rh1,Nf6,f4,Qg6,Qf3,Ng4+,Kg2,fxe4,dxe4,Ne5,Qc3,Nxc4,Qxc4,Rde8,f5,Qg4', 'Rxh7+,Kxh7,Rh1+,Qh5,Rxh5#', 'https://lichess.org/training/gEXaz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('geXpe', 'Blitz', 'savik', 2031, 'AunEl', 2096, 'c4,e5,Nc3,Bb4,Nf3,Bxc3,bxc3,d6,e4,Ne7,d4,Ng6,Bg5,f6,Be3,O-O,Qd2,Bg4,Bd3,Bxf3,gxf3,Nd7,Bc2,Nb6,Bb3,Kh8,h4,a5,c5,dxc5,dxc5,Nd7,O-O-O,a4,Be6,Nxc5,Bxc5,Re8,Bf5,Nf4,h5,Qb8,Be3,Ne6,Bxe6,Rxe6,Qd7,Rc6,Kc2,h6,Rhg1,Qg8,Bxh6', 'Qxa2+,Kd3,Rd6+,Qxd6,cxd6,Bxg7+,Kh7,Bxf6,Rg8', 'https://lichess.org/training/geXpe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gey1t', 'Classical', 'Lightning_13', 1699, 'CharmanderG', 1726, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nb6,Nc3,e6,Bf4,c6,a4,N6d7,d5,cxd5,exd5,e5,Be3,a6,Nf3,Bd6,Bg5,f6,Bh4,O-O,Bg3,Re8,Bc4,Nb6,Bb3,e4,Nd4,Bxg3,hxg3,Kh8,Qh5,h6,Qg6,N8d7,d6,Ne5', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/Gey1t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gEZCG', 'Classical', 'sahril-sir', 2014, 'LoganACP', 1957, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nc4,Nxe4,d3,Nf6,Be2,Be7,O-O,O-O,Nc3,Nc6,Re1,d5,Nd2,Bf5,Nf3,Re8,Bf4,Bd6,Bxd6,Qxd6,Nb5,Qd7,Nfd4,Nxd4,Nxd4,Bg6,Qd2,c5,Nf3,Re7,Bf1,Rae8,Rxe7,Rxe7,h3,h6,a4,Qd6,c3,Nh5,d4,cxd4,Nxd4,a6,Bd3,Bxd3,Qxd3,Nf4,Qg3,Qf6,Kh2,Ne2,Qf3,Nxd4,Qxf6,gxf6,cxd4,Re2,b4,Rb2,b5,axb5,axb5,Rxb5,Kg3,Kg7,Kf4,Kg6,g4,Rb4,Rd1,b5,h4,Rb2,f3,b4,h5+,Kg7,Kf5,b3,Rd3,Rb1,f4,b2,Rb3,Rd1,Rxb2,Rxd4,Rb6,Rc4,Rxf6', 'Rxf4+,Kxf4,Kxf6', 'https://lichess.org/training/gEZCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gEZMI', 'Rapid', 'petonnio', 1767, 'nerhim41', 1646, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,g6,Nc3,Bg7,Nf3,d6,Bb5,Ne7,O-O,O-O,Bg5,Be6,Rb1,Qc8,Nd5,f6,Be3,Kh8,h3,Rf7,c3,Ne5,Nxe7,Rxe7,a3,c6,Ba4,b5,Bc2,Bxh3,gxh3,Qxh3,Nh2,h5,Qe2,g5,Rfd1,g4,Bf4,Nf3+,Nxf3', 'gxf3,Qf1,Qg4+,Bg3,h4', 'https://lichess.org/training/gEZMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GezMN', 'Blitz', 'rahman2118', 1889, 'luistrivelatto', 1894, 'd4,d5,Nf3,Nc6,h3,Bf5,Bf4,e6,c3,Bd6,Bxd6,Qxd6,e3,Nf6,Be2,O-O,Nbd2,Rfe8,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qd6,Rc1,Ne4,a3,Re6,b4,Rg6,Kh1,Qe6,Nh4,Rh6,Nxf5,Qxf5,Bg4,Nxf2+,Rxf2,Qxf2,Qxd5,Qxe3,Rf1,Rf8,Qxb7,Qxc3,Qxa7,Rd6,b5,Qc4,Rb1,Rb6,a4,Rfb8,Re1,Qc3,Rf1,R8b7,Qa8+,Rb8,Qd5,Rf8,Qd7,Qc4,Rg1,Qxa4,Bf3,Qxb5,Qxc7,Qb4,Rf1,Rf6,Rg1,Qb6,Qe7,Qd8,Qe2,Re8,Qb2,Qb8,Qc3,Rc8,Qa3,Re8,Qa2,Rfe6,Rf1,f6,Rg1,Kh8,Bg4,R6e7,Bf3,Qa7,Qb3,Re1,Rxe1,Rxe1+,Kh2,Qc7+,g3,Rc1,Bg2,Rc2,Qd5,g6,Qa8+,Kg7,h4,Qc8,Qa4,Qc4,Qa8,Qc8,Qa7+,Qc7,Qa4,Kh6,Qf4+,g5', 'Qxf6+,Kh5,Qxg5#', 'https://lichess.org/training/GezMN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gF0W0', 'Rapid', 'adityasetyawann', 1918, 'larson2', 1894, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,e5,Nf3,Be7,Bg5,Bg4,h3,Bh5,Be2,Nbd7,Nd2,Bg6,Bc4,Nc5,Bxf6,Bxf6,O-O,O-O,Qf3,Rc8,Nd5,Bg5,Nb3,Nxe4,Bd3,Nc5,Nc3,Nxd3,cxd3,Qb6,Qd1,Bxd3,Qxd3,Qxb3,Qxd6,Qxb2,Ne4,Bf4,Rab1,Qd4,Rfe1,Qxa4,g3,Rfd8,Qe7,Rd7,Qh4,Bh6', 'Nf6+,gxf6,Qxa4', 'https://lichess.org/training/gF0W0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gf3X5', 'Rapid', 'kayzer1', 1814, 'Tucutac55', 1761, 'd4,Nf6,e3,b6,f4,Bb7,Nf3,e6,Bd3,Nc6,O-O,Nb4,Be2,Ne4,c3,Nd5,Bd3,Ndf6,Qc2,c5,Nbd2,Nxd2,Bxd2,Be7,f5,Rc8,fxe6,dxe6,Qa4+,Qd7,Bb5,Bc6,c4,Bxb5,cxb5,cxd4,Nxd4,Ne4,Be1,Bc5,Rd1,Qe7,Rf3,O-O', 'Nc6,Rxc6,bxc6', 'https://lichess.org/training/gf3X5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GF4O6', 'Rapid', 'Greminja', 1960, 'Sonsoa', 1954, 'e4,c5,Nf3,Nc6,Bb5,Qb6,Nc3,a6,Bc4,e6,O-O,Nf6,e5,Ng4,Re1,d5,exd6,Bxd6,h3,Nf6,d3,O-O,Be3,Qxb2,Qd2,Qb6,d4,cxd4,Nxd4,Nxd4,Bxd4,Qd8,Bxf6', 'Bh2+,Kxh2,Qxd2', 'https://lichess.org/training/GF4O6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gf4yB', 'Blitz', 'DiasporaALB', 2160, 'grgisimumpotimus', 1836, 'e4,b6,d4,Bb7,Nc3,d6,f3,Nd7,Bd3,e6,Nge2,Be7,O-O,Ngf6,Kh1,O-O,Bg5,h6,Bh4,Nxe4,Bxe7,Nxc3,Bxd8,Nxd1,Bxc7,Nxb2,Bxd6,Nxd3,Bxf8,Rxf8,cxd3,Rc8,Rac1,Rd8,Ng3,Nf6,Ne4,Bxe4,dxe4,Rxd4,Rfd1,Ra4,Rc2,Kh7,Rd8,Nh5,g3,f5,exf5,exf5,Kg2,Nf6,Rd6,Ne8,Re6,Nf6,Rc7,Nd5,Rd7,Nc3,Ree7,Rxa2+,Kh3,Ne2,Rxg7+,Kh8,Rge7', 'Ng1+,Kh4,Rxh2#', 'https://lichess.org/training/Gf4yB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GF5sK', 'Blitz', 'joranto0406', 1631, 'brianpho', 1588, 'd4,d5,c4,Nf6,Nc3,e6,e3,Bb4,a3,Bxc3+,bxc3,O-O,Nf3,Nc6,a4,a6,Bd2,dxc4,Bxc4,Bd7,O-O,Ne4,Qc2,Nxd2,Nxd2,Ne7,Rfb1,b6,Nf3,Ng6,Rd1,Qf6,Ne5,Nxe5,dxe5,Qe7,Rd4,c5,Rh4,h6,Rg4,h5,Rg3,Rad8,Be2,f5,Bxh5,Qh4,Rh3,Qg5,f4,Qe7,Qe2,Ra8,Qf3,b5,axb5,Bxb5,Qg3,a5,Qg6,a4,Qh7+,Kxh7', 'Bf7+,Qh4,Rxh4#', 'https://lichess.org/training/GF5sK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gF6DQ', 'Rapid', 'oluwashigo', 1966, 'afr64', 2109, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,Bg4,Be2,e5,c4,Qa5+,Nc3,Bb4,Bd2,exd4,Nxd4,Bxe2,Ndxe2,O-O-O,O-O,Nf6,Qc2,Rhe8,a3,Bd6,Nb5,Rxe2', 'Qf5+,Kb8,Bxa5', 'https://lichess.org/training/gF6DQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gf6mW', 'Rapid', 'Alex-Krasnoyarsk', 1720, 'Mago_de_Curitiba', 1709, 'd4,d5,c4,e6,Nc3,Bb4,Bd2,Nf6,a3,Ba5,b4,Bxb4,axb4,O-O,c5,Nc6,b5,Nxd4,Bg5,e5,e3,Ne6,Bxf6,Qxf6,Nxd5,Qh4,Nf3,Qe4,Ne7+,Kh8,Bd3,Qb4+,Qd2,Qxc5,Nxc8,Rfxc8,O-O,Qd5,Ra4,Nc5,Bc4', 'Qxd2,Nxd2,Nxa4', 'https://lichess.org/training/Gf6mW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GF8BK', 'Rapid', 'otto4', 1671, 'FluffyUn1corn', 1705, 'e4,d5,exd5,Qxd5,Nf3,Nc6,Nc3,Qh5,Be2,Bg4,O-O,Ne5', 'Nxe5,Bxe2,Qxe2,Qxe2,Nxe2', 'https://lichess.org/training/GF8BK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gF9jF', 'Rapid', 'Fowz_2078', 1638, 'psyduck', 1721, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Nge2,Nc6,d5,Nb8,Ng3,c6,Be2,e5,h3,Nbd7,O-O,Ne8,Be3,f5,Bf2,f4,Nh1,g5,a4,h5,c5,dxc5,Bxc5,Nxc5,Nf2,Nf6,b4,Ncd7,d6,Nb6,a5,Nbd7,b5,cxb5,Nxb5,Nc5,Qc2,b6,axb6,Qxb6,Rfb1,a6', 'Nc7,Qxd6,Nxa8', 'https://lichess.org/training/gF9jF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gFaum', 'Blitz', 'Esperado', 1672, 'Maxii0', 1573, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c3,d6,Be2,Nf6,Nd2,O-O,O-O,Nc6,b3,a6,Bb2,Nxd4,cxd4,b5,e5,dxe5,dxe5,Nd7,f4,Bb7,Bf3,Qc7,Rc1,Qb6+,Kh1,Nc5,Bd4,Bxf3,Nxf3,Rfd8,Qe2,Rac8,b4,Rxd4,bxc5,Rxc5,Rxc5,Qxc5,Nxd4,Qxd4,Qf3,Bf8,Rd1,Qb6,Qa8,Kg7,Rd8,Qe3,g3,Qe1+,Kg2,Qa1,Rxf8,Qxa2+,Kh3,b4,Rg8+,Kh6,Kh4', 'Qxh2+,Kg4,Qh5#', 'https://lichess.org/training/gFaum');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gfb1I', 'Rapid', 'AhmedSaied85', 1783, 'isik700', 1939, 'd4,g6,b3,Bg7,Bb2,c5,e3,cxd4,Bxd4,Nf6,Nf3,O-O,Qc1,Qa5+,Nbd2,Ne4,Bxg7,Kxg7,Bd3,Nxd2,Nxd2,d6,O-O,Be6,Ne4,Nc6,Qb2+,f6,a3,Ne5,b4,Nxd3,cxd3,Qf5,f3,Rac8,Rab1,Rc7,Rfc1,Rfc8,Qd2,Qb5,d4,Bf5,Rxc7,Rxc7,Nc3', 'Rxc3,Qxc3,Bxb1', 'https://lichess.org/training/Gfb1I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GFBW5', 'Rapid', 'Anuar4', 1931, 'Chappie19', 1856, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bc4,e6,Nf3,Ngf6,Qe2,Nxe4,Qxe4,Nf6,Qe2,Bb4+,c3,Bd6,O-O,O-O,Bg5,Be7,Ne5,Re8,Bd3,g6,Qf3,Rf8,Bh6,Re8,g4,Bf8,Nxf7,Kxf7,Bxf8,Rxf8,g5,Kg8,gxf6,Rxf6,Qg3,Qd5,Rfe1', 'Rf3,Qg4,Rxd3', 'https://lichess.org/training/GFBW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GFCNf', 'Classical', 'amook', 1701, 'TheRatman', 1694, 'e4,c5,Nc3,d6,f4,e5,f5,Nf6,Nf3,a6,Bc4,b5,Bd5,Ra7,d3,h6,O-O,Nbd7,Qe1,Nb6,Bc6+,Nbd7,Qh4,Qb6,Bd5,Be7,Bg5,c4+,Kh1,cxd3,cxd3,b4,Ne2,Qb5,Bc4,Qb7,Ng3,Nb6,Bb3,Rg8,Bxf6,Bxf6,Qh5,a5,Nd2,a4,Be6,g6,fxg6,Rxg6,Nf5,Qc7,Rac1,Qd8,Bxf7+,Kxf7,Nxh6+,Kg7,Nf5+,Bxf5,Rxf5,Bg5,Rd1,Nd7,Nf3,Nf6,Qh3,Bh6,Qh4,Qc7,Rf1,Qc2,Ng5,Qxd3', 'Ne6+,Kg8,Rxf6,Rxf6,Qxf6', 'https://lichess.org/training/GFCNf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gfd4f', 'Classical', 'David3p', 1845, 'Char1ieBrown', 1815, 'e4,e6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Nc6,Bb5,Bd7,Bxc6,bxc6,Nf3,Bc5,O-O,Ne7,c3,O-O,a4,a5,Bg5,Qb6,b4,axb4,a5,Rxa5,Rxa5,Qxa5,cxb4,Qxb4,Nbd2,h6,Bh4,Nf5,Bf6,gxf6,exf6,Qg4,Qc1,Bd4,h3,Qg6,Nxd4,Nh4,g3,Nf5,Nxf5,Qxf5,Kh2,Qxf6,f4,Qd4,Nf3,Qd3,Ne5,Qe2+,Kg1,Be8,Ng4,Kh7,f5,f6,Qxh6+,Kg8,Nxf6+,Rxf6,Qxf6,Bf7,Qg5+,Kf8,f6,Ke8,Qg7,Qe3+,Rf2,d4,Qh8+,Kd7,Qf8,Qxg3+,Rg2,Qe1+,Kh2,Qe5+,Kh1,Qxf6,Kg1,d3,Qa3', 'Qd4+,Kf1,d2,Rxd2,Qxd2', 'https://lichess.org/training/Gfd4f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gfDjv', 'Rapid', 'Prai', 1938, 'ermitanho', 2032, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Nc6,Bc4,Na5,Bb5,a6,Ba4,b5,Bb3,Nxb3,Qxb3,Bb7,O-O,d6,Rd1,Ne7,Bf4,Ng6,Bg3,Be7,a4,O-O,axb5,axb5,Rxa8,Qxa8,Bxd6,Bxd6,Rxd6,Bxe4,Nxe4,Qxe4,Qxb5,Ra8,Ra6', 'Qb1+,Qf1,Qxf1+,Kxf1,Rxa6', 'https://lichess.org/training/gfDjv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gFEks', 'Classical', 'mohammadtabriz', 1771, 'Fredbek', 1817, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,d6,c3,dxc3,Qb3,Be6,Qxb7,Na5,Bb5+,Nd7,Qa6,c6,Bxc6,Nxc6,Qxc6,Rc8,Qa4,Rc4,Qxa7,cxb2,Bxb2,Nc5,e5', 'Ra4,Qxa4+,Nxa4', 'https://lichess.org/training/gFEks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gFfop', 'Blitz', 'Smalldoc', 2190, 'franciscoacosta', 2244, 'd4,d5,c4,c6,Nc3,e6,Nf3,f5,Bf4,Nf6,e3,a6,a4,Bd6,Bg5,O-O,Bd3,h6,Bxf6,Qxf6,O-O,Nd7,Rb1,g5,b4,Rf7,b5,g4,Nd2,h5,a5,h4,Qa4,Nb8,bxa6,Nxa6,cxd5,exd5,Bxa6,Rxa6,Rb6,Ra8,a6,g3,fxg3,hxg3,h3,f4,axb7,Bxb7,Qb3,Ba6,Nxd5,cxd5,Qxd5,Ra7,Rxd6,Qe7,Rd8+,Kg7,Rxf4,Qxe3+,Kh1,Qe1+,Nf1', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/gFfop');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gfFZr', 'Blitz', 'GM FakeBruceLee', 2651, 'AjedrezParaMortales', 2390, 'e4,c5,c3,d5,exd5,Nf6,d4,Nxd5,Nf3,e6,Bd3,Nc6,O-O,cxd4,cxd4,Bd6,Nc3,Nxc3,bxc3,h6,Qe2,O-O,Rb1,f5,Re1,b6,Bc4,Re8,d5,Na5,Bb5,Re7,dxe6,Bxe6,Qd1,Qc7,a4,Rd8,Qc2,Bc4,Rxe7,Qxe7,Be3,Bxb5,axb5,Nc4,Bd4,Bc5,Qa2,Qf7,Bxc5,bxc5,h3,Kh8,Re1,Kg8,Qa6,Nb6,Ra1,Rd7', 'Ne5,Qd5,Nxd7', 'https://lichess.org/training/gfFZr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GFH18', 'Rapid', 'keinstein1', 1749, 'Wonderwise', 1978, 'e4,c5,g3,Nc6,Bg2,e5,Nf3,Nf6,d3,Be7,Be3,O-O,Nbd2,d5,exd5,Nxd5,O-O,Bf6,Bxc5,Re8,c3,b6,Ba3,Bb7,Re1,Nc7,Nc4,Nb5,Qd2,Nxa3,Nxa3,e4,dxe4,Qxd2,Nxd2,Ne5,Re3,Rad8,Rd1,Ng4,Ree1,Ne5,Bf1', 'Rxd2,Rxd2,Nf3+', 'https://lichess.org/training/GFH18');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gFifN', 'Rapid', 'Giordano_Bruno', 2420, 'Samadin', 1886, 'd4,d5,Nf3,e6,c4,Nf6,g3,Be7,Bg2,O-O,O-O,Nbd7,Qc2,c6,Nbd2,e5,dxe5,Ng4,cxd5,cxd5,e4,Qa5,Nb3,Qb6,exd5,Ndxe5,Nxe5,Nxe5,Be3,Qg6,Qxg6,hxg6,Rfd1,Rd8,Rac1,Bg4,Bf4,Bxd1,Rxd1,Nc4,Bc1,Bf6,Nc5,b6,Nd3,Rd7,b3,Nd6,Bf4,Rad8,h4,Nb5,Rc1,Nc3,Rc2,Nxd5,Bc1,Ne7,Nf4,Nf5,Bh3,Rd1+,Kg2,Re1,h5,Rdd1,Rc8+,Kh7,hxg6+,fxg6,Bxf5,gxf5,Be3,Rg1+,Kf3,g5,Rc7+,Kh6,Ne6,Kh5', 'Rh7+,Kg6,Nf8#', 'https://lichess.org/training/gFifN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gfkE8', 'Rapid', 'Chifambaaa', 2140, 'francisclaire', 2063, 'd4,d5,c4,c6,Bf4,Nf6,e3,Bf5,Nc3,e6,Nf3,dxc4,Bxc4,Nd5,Bg3,Bd6,Ne5,f6,Nf3,Bxg3,hxg3,Nd7,Nh4,N7b6,Nxf5,exf5,Bd3,g6,g4,f4,Bxg6+,Kd7,Bf5+,Kc7,e4,Ne7,Rc1,Kb8,Be6,Ng6,d5,cxd5,Nxd5,Nxd5,Rc8+,Qxc8,Bxc8,Rxc8,exd5,Nf8,O-O,a6,Re1,Nd7,Re7,Ne5,Qb3', 'Rc1+,Kh2,Nxg4+,Kh3,Nxf2+,Kh4,Rh1+', 'https://lichess.org/training/gfkE8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gFLrP', 'Blitz', 'snewmark', 1676, 'Tamer777', 1655, 'd4,d5,Nc3,Nf6,Nf3,Bf5,Bf4,e6,Nb5,e5,dxe5,a6,exf6,axb5,fxg7,Bxg7,c3,O-O,e3,Nc6,Bxb5,Qd7,O-O,Ra5,a4,Qe6,Re1,Qg6,Nh4,Qf6,Nxf5,Qxf5,Bxc7,Raa8,Bf4,Qg6,Qxd5,Kh8,Rad1,Rg8,Bd3,Qg4,Bf5,Qh4,Bh3,Rad8,Qxf7,Rgf8,Qxb7,Qh5,Rxd8,Nxd8,Qb5,Qg6,a5,Nc6,Qc4,Nxa5,Qb4,Nc6,Qc5,Rd8,Bf5,Qf6,Qb6,Bf8,Bg4,Re8,Bf3,Rc8,Bxc6,Rxc6,Qb3,Rb6,Qc4,Rxb2,Qe4,Bg7,Be5', 'Qxf2+,Kh1,Qxe1#', 'https://lichess.org/training/gFLrP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gfn51', 'Blitz', 'FM Boris_Soltis', 2463, 'Mahan_83', 2426, 'e4,e6,Nc3,d5,d4,Bb4,a3,Bxc3+,bxc3,Ne7,exd5,exd5,Nf3,c5,dxc5,Qa5,Bd3,Qxc3+,Bd2,Qxc5,O-O,O-O,Re1,Qc7,Qc1,Nbc6,Bf4,Qd8,Qd1,Bf5,Ng5,Bxd3,Qxd3,Ng6,Bd2,h6,Nf3,Qd6,h4,Nce5,Nxe5,Nxe5,Qg3,Rfe8,Bf4,f6,Rad1,Kh7,h5,Rad8,c4,Qc6,cxd5,Rxd5,Rc1,Qd7,Qe3,Qf5,Bg3,Rd3,Qxa7,Qxh5,Qxb7,Qg6,Rc7', 'Nf3+,gxf3,Rxe1+', 'https://lichess.org/training/Gfn51');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gfnnB', 'Blitz', 'LM Bikfoot', 2064, 'pjesak87', 1987, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,Nc6,O-O,Nf6,d3,Be7,Re1,O-O,Bf4,e5,Bd2,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,a6,a4,Rb8,Nd5,Nxd5,Bxd5,b5,c3,Ne6,Qg4,Nc7,Bh6,Bf6,Bb3,Kh8,Be3,Qc8,Qe2,Rb7,f4,exf4,Bxf4,Be5,Rf1,Bxf4,Rxf4,f6,Rh4,Qd7', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/gfnnB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GFNpo', 'Rapid', 'Paulo8228', 1853, 'EPAR', 1860, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Bc5,e3,O-O,h3,Nxf2,Kxf2,Qh4+,Bg3,Bxe3+,Kf3', 'Qh5+,Kxe3,Qxd1', 'https://lichess.org/training/GFNpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gfnwD', 'Rapid', 'czar0006', 1673, 'iman_amoei', 1692, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qd6,Bd3,Nf6,O-O,Nc6,Re1,Be7,Ne4,Nxe4,Bxe4,Bf6,Bxc6+,Qxc6,Nxe5,Bxe5,Rxe5+,Be6,Qe1,O-O,c3,Rfe8,d4,Bd5,Rxe8+', 'Rxe8,Qd1,Bxg2', 'https://lichess.org/training/gfnwD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GFPHR', 'Blitz', 'IM samisahi', 2651, 'sureshtanneru', 2176, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,d4,Bd6,Bd3,O-O,O-O,Re8,h3,Nd7,c3,Nf8,Qc2,Be6,Bd2,Rc8,c4,Bb8,Rfe1,Qc7,Re2,Bd7,Rae1,Rxe2,Rxe2,Re8,Rxe8,Bxe8,b3,Bd7,Qd1,g6,Qe1,Kg7,Qe7,Ne6,d5,cxd5,cxd5,Nf4', 'Bxf4,Qxf4,Qxd7', 'https://lichess.org/training/GFPHR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GfPns', 'Rapid', 'louisboi', 1866, 'slm12311', 1790, 'e4,c5,Nf3,Nc6,d4,e6,d5,exd5,exd5,Nb4,d6,Nf6,Qe2+,Be7,dxe7,Qa5,Nc3,d5,Bd2,Nxc2+,Kd1,Nxa1,Nxd5,Qa4+,b3,Qd7,Qb5,Nxd5,Qxc5,Nxe7', 'Bb5,Qxb5,Qxb5+', 'https://lichess.org/training/GfPns');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GFqN9', 'Blitz', 'Invincibleme101', 2048, 'FM ABIMBOLA-OSUNFUYI', 2462, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d6,e4,O-O,Be2,e5,O-O,exd4,Nxd4,c6,Nc2,Na6,Be3,Re8,f3,Nc7,Qd2,d5,Rad1,Be6,cxd5,cxd5,e5,Nd7,f4,a6,b4,Rc8,a4,Bf5,Nd4,Ne6,Nxf5,gxf5,Nxd5,Kh8,a5,Rg8,Qa2,Qh4,g3,Qh3,Ne7,Bxe5,Rxd7,Rxg3+,hxg3,Qxg3+,Kh1,Qh3+,Kg1,Qxe3+,Kg2,Nxf4+,Rxf4,Bxf4,Nxc8,Qg3+,Kf1,Qh3+,Ke1,Qh1+,Bf1,Bg3+,Kd1,Qxf1+,Kc2,Qg2+,Kb3', 'Qf3+,Ka4,Qc6+,Ka3,Qxd7,Qb2+,Kg8', 'https://lichess.org/training/GFqN9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GFRjK', 'Blitz', 'toblp328', 1585, 'AkaMaka', 1699, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Bc4,Bxc3,dxc3,d6,Bg5,O-O,Qd2,Bg4,Rg1,Bxf3,gxf3,Nbd7,Bb3,Qe8,Bxf6,Nxf6,Qg5,g6,h4,Nd7,h5,Kh8,hxg6,fxg6,Qh6,Qe7,Rxg6,Nf6,Rg3,c5,O-O-O,b5,Rdg1,c4,Rg7,Qe8,Bxc4,bxc4,Rh1,Rf7', 'Qxh7+,Nxh7,Rhxh7#', 'https://lichess.org/training/GFRjK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GfrlH', 'Blitz', 'Hanif1363', 1519, 'sebciomol', 1551, 'd4,d5,Nf3,Nf6,Nc3,Nc6,Bf4,Bf5,e3,e6,Bd3,Bg6,Bxg6,hxg6,Ne5,Bd6,Nxc6,bxc6,Bxd6,Qxd6,a3,Rb8,b4,a6,Na4,Nd7,Nc5,Nxc5,bxc5,Qd8,Rb1,O-O,Rb3,Qg5,O-O,f5,Qb1,Rxb3,cxb3,Qf6,b4,g5,Qd3,f4,exf4,gxf4,Qxa6,f3,Qxc6,Qg5,g3,Qg4,Kh1,Qh3,Rg1,Rf6,Qxc7', 'Qxh2+,Kxh2,Rh6#', 'https://lichess.org/training/GfrlH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GFs1K', 'Rapid', 'kailash00', 1828, 'dahaiou', 1801, 'e4,e5,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,Qf3,Be6,d3,f5,Qh5+,Kd8,Bg5+,Be7,Bxe7+,Kxe7,Qg5+,Kf7,Nc3,h6,Qg3,Qc6,Nf3,Nd7,Nxe5+,Nxe5,Qxe5,Qxg2,Qxc7+,Kf6,O-O-O,Rac8,Qf4,g5,Ne4+', 'Qxe4,Qxe4,fxe4', 'https://lichess.org/training/GFs1K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gfSua', 'Rapid', 'Doulikemybishop', 1884, 'alrome', 1952, 'c4,Nf6,g3,d5,Bg2,g6,Nf3,Bg7,O-O,O-O,cxd5,Nxd5,Nc3,Nxc3,bxc3,Bg4,d4,Nd7,e4,c5,d5,Bxc3,Rb1,b6,h3,Bxf3,Qxf3,Bd4,Be3,Ne5,Qe2,Bxe3,Qxe3,a6,f4,Nd7,e5,Re8,e6,Nf6,exf7+,Kxf7,Qe6+,Kf8,Rxb6,a5,d6,Qxb6', 'dxe7+,Kg7,Qxb6', 'https://lichess.org/training/gfSua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GFtH8', 'Blitz', 'IM Nozdrachev_Leonid', 2396, 'Halimklai', 1989, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,g6,Be2,Bg7,O-O,O-O,c4,Nb6,Be3,Nc6,exd6,cxd6,Nc3,e5,d5,Ne7,c5,dxc5,Bxc5,Re8,d6,Nf5,Nb5,Nd7,Ba3,Rf8,Nc7,Rb8,Qa4,a6,Rfd1,b5,Qa5,Nd4,Nxd4,exd4,Bf3,Be5,Rac1,Bb7,Bxb7,Rxb7,Qxa6,Rb6,Qa7,Bxd6,Bxd6,Rxd6,Nxb5,Rd5,Nxd4,Ne5,h3,Qg5,Ne2,Nf3+,Kh1,Rxd1+,Rxd1,Nh4,Qb7,Qh5,Qe4,Nf5,Kh2,Qh6,Qf4,Qg7,b4,Qb2,Rd2,Qb1,Ng3,Nxg3,fxg3,Re8,a4,Re1,Rd8+,Kg7,Qd4+,Kh6,Qf4+,Kg7,g4', 'Rh1+,Kg3,Qe1+', 'https://lichess.org/training/GFtH8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gFTrZ', 'Rapid', 'ccg_tabiler', 2052, 'Butron', 1909, 'd4,d5,c4,Nf6,Nf3,h6,Nc3,dxc4,e4,Bg4,Be3,e6,Bxc4,a6,O-O,Nc6,d5,Na7,dxe6,Bxe6,Bxe6,fxe6,Qb3,Nc6,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/gFTrZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gfumN', 'Rapid', 'khattab83', 2257, 'janev1976', 2181, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bd3,cxd4,cxd4,Qb6,O-O,Nb4,Nc3,Nxd3,Qxd3,Bb4,Re1,Rc8,Ng5,h6,Qh3,Qxd4,Nf3,Qd3,Bd2,d4,Ne4,Bxd2,Nd6+,Ke7,Nxc8+,Bxc8,Nxd2,Qxd2,Qa3+,Ke8,Qxa7,Ne7,Rac1,Kd7,Red1,Qxb2,Qa4+,Nc6,Rc2,Qb6,Rcd2,Ke7,Qa3+,Qb4,Qg3,g5,f4,gxf4,Qxf4,Qc5', 'Qf6+,Kd7,Qxh8', 'https://lichess.org/training/gfumN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gFvPb', 'Rapid', 'RUSLANLAHAMUDDING', 1848, 'gergoci96', 1936, 'Nf3,Nf6,g3,g6,Bg2,Bg7,c4,c5,d4,cxd4,Nxd4,Nc6,Be3,Nxd4,Bxd4,O-O,b4,Re8,O-O,e5,Bb2,e4,e3,d5,c5,b6,Qd4,Nh5,Qd2,bxc5,Bxg7,Nxg7,bxc5,Ne6,Rc1,Ng5,Nc3,Be6,a4,Qa5,Qd4,Bh3,Nb5,Bxg2,Kxg2,Rad8,Nd6,Ne6,Qf6,Qc7,Nxe8,Rxe8,a5,Qc6,a6,g5,Qc3,d4,exd4,Nf4+,Kf1,Nd3,Rc2,Qb5,Qc4,Qd7,Kg2,Qg4,d5,Qf3+,Kg1,e3,Qxd3', 'exf2+,Rxf2,Qxd3', 'https://lichess.org/training/gFvPb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GfvXr', 'Rapid', 'CarlosMagnussen', 1754, 'mouradzid', 1698, 'e4,e5,Nf3,d6,Bb5+,Bd7,Be2,h6,d4,exd4,Nxd4,c5,Nf3,Nc6,Nc3,Nf6,Bf4,Be7,Bxd6,O-O,Bxe7,Qxe7,O-O,Rad8,Bd3,Bg4,h3,Bh5,Re1,Nd4,Be2', 'Nxf3+,Bxf3,Rxd1', 'https://lichess.org/training/GfvXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GFw6S', 'Rapid', 'Tabbs04', 1676, 'scapi1', 1653, 'd4,Nf6,Bg5,Ne4,h4,h6,Be3,d5,f3,Ng3,Rh3,Bxh3,gxh3,Nf5,Bf2,Qd6,Nc3,Nc6,Qd3,Ng3', 'Nb5,Qd7,Bxg3', 'https://lichess.org/training/GFw6S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gFwDc', 'Blitz', 'Preyevsky', 1975, 'juniorjpv2001', 1938, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb3,Ne4,Ba4,Bb4+,Nbd2,Bxd2+,Bxd2,O-O,Bf4,Bg4,Bxc6,bxc6,Qxd4,Rb8,O-O-O,c5,Qe3,c6,h3,Qb6,b3,Qb4,hxg4,Qa3+,Kb1,c4,Qc1', 'Nc3+,Ka1,Qxa2#', 'https://lichess.org/training/gFwDc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GfxEP', 'Blitz', 'CM masterhec', 2340, 'Jojofoz', 2234, 'e4,d6,d4,Nf6,Bc4,g6,Qf3,Bg7,e5,dxe5,dxe5,Bg4,exf6,Bxf3,Nxf3,Bxf6,O-O,O-O,Nc3,c6,Bh6,Re8,Rad1,Qc7,Rfe1,e6,Ne4,Bg7,Bxg7,Kxg7,Nfg5,h6,Nd6,Rf8,Ngxf7,Rxf7', 'Ne8+,Kh7,Nxc7', 'https://lichess.org/training/GfxEP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gFXxn', 'Blitz', 'Motyaprekrasen', 2146, 'kultainenmaali', 2177, 'd4,Nf6,c4,e6,a3,b6,Nf3,Bb7,Nc3,d5,Bg5,Be7,e3,O-O,Bd3,h6,Bh4,Ne4,Bxe7,Qxe7,Bxe4,dxe4,Ne5,Nd7,Nxd7,Qxd7,O-O,Rad8,Qg4,f5,Qg3,a6,Rad1,Qc6,d5,Qxc4,dxe6,Rd3,e7,Re8,Rc1,Rxe7,Ne2,Qf7,Nf4,Red7,Nxd3,exd3,Rfd1,d2,Rc2,Qb3,Rcxd2', 'Qxd1+,Rxd1,Rxd1#', 'https://lichess.org/training/gFXxn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GFzBO', 'Blitz', 'Hannibalschlechter', 2218, 'Kofun', 2163, 'd4,Nf6,Bg5,d5,Bxf6,exf6,e3,Bd6,Bd3,O-O,Nd2,Re8,Qf3,c6,O-O-O,Nd7,g4,Nf8,Ne2,Ne6,h4,b5,Rdg1,c5,Qxd5,Nc7,Qf3,Rb8,g5,f5,Bxf5,Bb7,Bxh7+,Kxh7,Qxf7,Bd5,g6+,Kh8,Qf5,Kg8,Rh3,Be6,Qh5,Bxh3', 'Qh7+,Kf8,Qh8+,Ke7,Qxg7+,Ke6,Qf7#', 'https://lichess.org/training/GFzBO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GG32P', 'Rapid', 'lukos05', 1702, 'ghord', 1729, 'd4,Nf6,Nf3,c5,c3,cxd4,cxd4,Nc6,d5,Qa5+,Bd2,Qxd5,Nc3,Qe6,Nb5,Nd5,Ng5,Qe5,e4,Nf4,Qb3,d5,Nf3,Qxe4+,Qe3,Qxe3+,Bxe3,Ne6,Bd3,a6,Nc3,d4,Nxd4,Nexd4,Bxd4,Nxd4,Nd5,Kd8,Nb6,Rb8,O-O-O,Be6,Bc2,Kc7,Rxd4,Kxb6,Rb4+,Ka7,Rd1,Bxa2,b3,a5,Ra4,Bxb3,Bxb3,Rc8+,Kb2,e6,Rd7,f5,Bxe6,Rc6,Bxf5,Bb4,Be4,Rc5', 'Rxb7+,Ka6,Rbxb4', 'https://lichess.org/training/GG32P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GG37M', 'Blitz', 'KolesnikAV', 2102, 'ChanChamara95', 1875, 'd4,d5,c4,Nf6,Nc3,g6,Nf3,dxc4,Bg5,Bg7,e4,O-O,Qd2,Nc6,Bxc4,Bg4,O-O-O,Bxf3,gxf3,h5,Rhg1,a6,Bh6,b5,Bb3,a5,Rxg6,e6,Rxg7+,Kh8,Rdg1,Qxd4,Be3,Qxd2+,Bxd2,a4,Bc2,Ne5,R7g3,b4,Nb5,b3,axb3,axb3,Bb1,Ra1,Bc3,Ned7,Nd4,c5,Nc6,c4,Rh3,e5,Nxe5,Nxe5,Bxe5,Kh7,Bxf6,Kh6,f4,Rd8,Rg5', 'Rxb1+,Kxb1,Rd1#', 'https://lichess.org/training/GG37M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gg5Pg', 'Rapid', 'vig4540', 1854, 'Goleada_x', 1854, 'd4,d5,Bf4,Bf5,e3,a6,c4,Nf6,h3,e6,c5,Nc6,a3,h6,Qb3,Rb8,Nd2,Ne4,Nxe4,Bxe4,f3,Bg6,Bd3,Bxd3,Qxd3,Na5,Ne2,Be7,Rb1,Bh4+,Bg3,Bxg3+,Nxg3,Nc6,O-O,O-O,Rfd1,e5,Qf5,exd4,exd4,Ne7,Qg4,c6,Nh5,Ng6,Re1,Qc8,Qg3,Qf5,Qg4,Qxg4,hxg4,Rbe8,b4,f5,gxf5,Rxf5,Ng3,Rxe1+,Rxe1,Rf8,Kf2,Nf4,Re3,Kf7,Ne2,Nxe2,Kxe2,Kf6,Re5,g5,g4,Rf7,Rf5+,Kg6,Rxf7,Kxf7,Ke3,Kf6,f4,gxf4+,Kxf4,Kg6,a4,Kf6,a5,Kg6,Kg3,Kg5,Kf3,Kh4,Kf4,Kh3,g5,hxg5+,Kxg5,Kg3,Kf5,Kf3,Ke5,Ke3,Kd6,Kxd4,Kc7,Kc4,Kxb7,d4,Kxc6', 'd3,Kb6,d2,c6,d1=Q', 'https://lichess.org/training/gg5Pg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gg6YV', 'Classical', 'Hai7', 1914, 'klauspostman', 1804, 'e4,e5,Nc3,Nc6,Nge2,d6,g3,Bg4,Bg2,Qf6,O-O,O-O-O,Nd5,Qg6,f3,Be6,Nec3,Nf6,d3,h5,h4,Qh7,Bg5,Be7,Nxe7+,Nxe7,a4,Rde8,a5,Nd7,b4,f6,Be3,g5,hxg5,fxg5,Bxg5,Reg8,f4,h4,gxh4,exf4,Rxf4,Ne5,Nd5,Rxg5,Nxe7+,Kd7,hxg5', 'Qh2+,Kf2,Qxf4+', 'https://lichess.org/training/gg6YV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gg7pQ', 'Rapid', 'noofellini', 1603, 'yassinesahid', 1649, 'e4,e5,c3,d5,exd5,Qxd5,Nf3,Bg4,d3,Nf6,Bg5,Nbd7,Nbd2,Bd6,Be2,O-O-O,Ne4,Nxe4,Bxd8,Nxf2,Kxf2,Rxd8,Rf1,Bc5+,d4,exd4,Nxd4,Bxe2,Qxe2,Bxd4+,cxd4,Qxd4+,Kg3,Nf6,Rad1,Ne4+,Kh3,Qe5,Rxd8+,Kxd8,g3', 'Ng5+,Kg2,Qxe2+', 'https://lichess.org/training/Gg7pQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gg9r0', 'Rapid', 'Skrato', 1733, 'King-of-Kings', 1764, 'd4,e6,c4,d5,Nc3,Bb4,Nf3,Bxc3+,bxc3,Nf6,Bg5,Nbd7,e3,h6,Bh4,O-O,cxd5,exd5,Bd3,Qe8,Bxf6,Nxf6,O-O,Bg4,h3,Bh5,Rb1,b6,Bb5,c6,Bd3,Ne4,Qc2,Bg6,Ne5,Bh7,f3,Nf6,Bxh7+,Nxh7,e4,Nf6,exd5,Nxd5,Rfe1,Qc8,c4,Nf6,Nd3,Rd8,Qb2,Qf5,Ne5,Qf4,Nxc6,Rd6,Ne7+,Kf8,d5,Qxc4,Rbc1,Qf4,Rc8+,Rd8,Qa3,Rdxc8', 'Ng6+,Kg8,Nxf4', 'https://lichess.org/training/gg9r0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GGBHG', 'Rapid', 'sun_kumar_e', 1765, 'KAKTANK', 1727, 'e4,c5,Nf3,d6,Bc4,e6,d3,a6,Be3,Nc6,O-O,Nf6,Nc3,Be7,d4,b5,d5,bxc4,dxc6,O-O,e5,Ng4,exd6,Bxd6,Ne4,Bxh2+,Nxh2,Nxe3,fxe3,Qc7,Qd6,Qb6,Qxc5,Qxb2,Qxc4,Rd8,Rab1,Qa3,c7,Qxe3+,Kh1,Rd4,Rfe1', 'Qxe1+,Rxe1,Rxc4', 'https://lichess.org/training/GGBHG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gGbiJ', 'Rapid', 'MSchenkHH', 1734, 'Thomas52Z', 2004, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,Nc3,Bg4,h3,Bh5,Be3,c6,Re1,Nbd7,Be2,Qc7,Qd3,Bg6,Qd2,Rfe8,Rad1,b5,a3,a5,Bd3,Ne4,Qc1,b4,Nb1,h6,c3,Ndf6,c4,Rac8,c5,Bf8,Bf4,Qb7,Ne5,Nd7,Nxg6,fxg6,f3,Nef6,Rxe8,Rxe8,Bxg6,Re7,Bd6,Re2,Bxf8,Nxf8,Bf5,Qe7,Nd2,g6,Bd3,Re3,Nf1,Re6,Qxh6,Qg7,Qxg7+,Kxg7,Kf2,Re7,Re1,Ne6,g3,Kf7,f4,Nxd4,Rxe7+,Kxe7,Bxg6,Nc2,g4,bxa3,bxa3,Nxa3,Nd2,a4,g5,Ne4+,Nxe4,dxe4,Ke3', 'Nc4+,Kxe4,a3,Kd4,a2', 'https://lichess.org/training/gGbiJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgCwx', 'Rapid', 'cleberGemelli', 1739, 'TheAttanoOutsider', 1701, 'e4,e5,Nf3,Nf6,Bc4,Nc6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,Bc5,Nfg5,O-O,Qf3,Nd4', 'Nf6+,gxf6,Qxd5', 'https://lichess.org/training/GgCwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgDqD', 'Blitz', 'shoaip', 1667, 'Ahmed2002', 1911, 'd4,Nf6,f4,d5,Nf3,g6,e3,Bg7,Be2,O-O,O-O,Nbd7,c4,e6,Nc3,c5,Qd2,cxd4,Nxd4,dxc4,Bxc4,Nc5,Qe2,Nfe4,Bd2,Qf6,Nxe4,Nxe4,Bc3,Nxc3,bxc3,Bd7,Nf3,Qxc3,Rfc1,Qxa1,Rxa1,Bxa1,h3,Bg7,Qf2,Bc6,Ng5,Rac8,Qh4,h5,f5,exf5,Qf2,Be8,Bb3,Bc6,Qd2,Rfd8,Qb4,Rd7,e4,fxe4,Nxe4,Bxe4,Qxe4,Kf8,Kh2,Re7,Qb4,Be5+,Kg1,Rc1+,Kf2,Bc3,Qf4,Ree1', 'Qxf7#', 'https://lichess.org/training/GgDqD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GGEpW', 'Rapid', 'skype2018', 1661, 'Aloe78', 1641, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,O-O,Bg4,h3,Bh5,d5,Ne5,Be2,h6,Re1,Nf6,Nc3,O-O,Bf4,Re8,Nxe5,Bxe2,Qxe2,dxe5,Be3,c6,Rad1,Bxe3,Qxe3,Qd6,Na4,b6,Nc3,Rac8,Qg3,Nh5,Qg4,Nf4,Re3,h5,Qg5,c5,Rg3,g6,Re1,Kg7,Ne2,f6,Qh4,g5,Nxf4,Rh8,Nxh5+,Kg6,Nf4+', 'exf4,Qxh8,Rxh8', 'https://lichess.org/training/GGEpW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GGFNL', 'Rapid', 'Malajo', 1921, 'DNIWE90lvl', 1913, 'e4,c6,d4,d5,Nc3,Nf6,Bg5,e6,e5,h6,Bh4,g5,exf6,gxh4,Qf3,Nd7,Bd3,Nxf6,Nge2,h5,O-O-O,Bh6+,Kb1,Qe7,Nf4,Bxf4,Qxf4,Bd7,Qxh4,O-O-O,Rhe1,Rde8,f4,Rhg8,Re2,Rg4,Qf2,Reg8,g3,h4,f5,hxg3,hxg3,Nh5,fxe6,Bxe6,Bf5,Rxg3,Bxe6+,fxe6,Rde1,Rg2,Qf3,Rxe2,Qxe2,Nf4,Qe3,Rf8,Rf1,Ng2,Rxf8+,Qxf8,Qxe6+,Kb8,Qe2,Nf4,Qf2,Qh6,a3,Ne6,Ne2,Qg7,c3,Kc7,Nf4,Qf7', 'Nxd5+,cxd5,Qxf7+', 'https://lichess.org/training/GGFNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gGg1f', 'Rapid', 'winter60', 1801, 'jomarsolaiman', 1823, 'e4,d6,c3,c5,d4,cxd4,cxd4,Nc6,d5,Ne5,Nf3,Nxf3+,Qxf3,Nf6,Qd1,g6,Be2,Nxe4', 'Qa4+,Bd7,Qxe4', 'https://lichess.org/training/gGg1f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GGGn1', 'Classical', 'balbirsr', 1772, 'IForJ4stice', 1850, 'e4,c5,Nf3,d6,Bb5+,Nc6,O-O,a6,Bc4,Nf6,Re1,g6,c3,Bg7,Bxf7+,Kxf7,Ng5+,Kf8,d4,h6,Nf3,Bg4,Nbd2,cxd4,h3,dxc3,bxc3,Bh5,g4,Nxg4,hxg4,Bxc3,Rb1,Bxg4,Rxb7,Nd4,Re3,Bxd2,Bxd2,Nxf3+,Rxf3+,Bxf3,Qxf3+,Ke8,Qg2,g5,Qg4,Rb8,Qh5+,Kf8,Qf3+,Kg8', 'Qb3+,d5,Rxb8', 'https://lichess.org/training/GGGn1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgGUi', 'Rapid', 'Y-N', 1708, 'Drmazi', 1715, 'e4,e5,Nc3,Bc5,Bc4,Nf6,d3,d5,Nxd5,Ng4,Be3,Nxe3,Nxe3,O-O,Qh5,Qf6,Qf3,Qg5,Nd5,Bg4,Qg3,Bxf2+,Kxf2,Qd2+,Kf1,Nc6,Qxg4,Qxc2,Qe2,Qa4,Nxc7,Nd4,Qd2,Rac8,Nd5,b5,Ne7+,Kh8,Nxc8,bxc4,Nd6,cxd3,Nf3,Nc2,b3,Qc6,Rc1,Qxd6,Rxc2,dxc2,Qxc2,f5,exf5,e4,Qxe4,Qd1+,Qe1,Qd3+,Qe2,Qxf5,g3,Qb1+,Kg2,Qf5,Rf1,h6,Nh4,Qd5+,Rf3,Rd8,Ng6+,Kh7,Ne7,Qd2,Kf2,Qd4+,Re3,Rf8+,Ke1,Qb4+,Qd2', 'Rf1+,Ke2,Rf2+,Kxf2,Qxd2+', 'https://lichess.org/training/GgGUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gghBx', 'Rapid', 'BartekBielecki', 1620, 'ssosnicki88', 1773, 'Nf3,d5,b3,e6,Bb2,Nf6,e3,Bb4,Bb5+,Bd7,Bxd7+,Nbxd7,Ne5,Nxe5,Bxe5,O-O,O-O,Nd7,Bb2,e5,a3,Bd6,d3,Qh4,g3,Qh3,Qf3,Nf6,Qg2,Qg4,Nd2,Rae8,h3,Qg6,e4,d4,c3,Bc5,b4,dxc3,Bxc3,Bd4,Bxd4,exd4,Rae1,c6,Nc4,b5,Nd6,Re6,Nf5,Rfe8,g4,h5,Nxd4,Rd6,gxh5', 'Qxg2+,Kxg2,Rxd4', 'https://lichess.org/training/gghBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgHmL', 'Rapid', 'erena3000', 1939, 'GrandFunkR', 1927, 'e4,Nf6,Nc3,d6,Nf3,Nc6,d4,Bg4,d5,Ne5,Nxe5,Bxd1,Nxd1,dxe5,Be2,Nd7,O-O,g6,Be3,Bg7,Nc3,a6,a3,O-O,h4,b5,h5,Nb6,h6,Bh8,Bg5,f6,Be3,f5,exf5,Rxf5,Bd3,Rh5,Be2,Rf5,Bg4,Rf8,Be6+,Rf7,Rad1,Qd6,f4,Bf6,Ne4,Qd8,f5,Kf8,fxg6,hxg6,Bxf7,Kxf7,Ng5+,Kg8', 'h7+,Kh8,Nf7+,Kxh7,Nxd8', 'https://lichess.org/training/GgHmL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ggiwt', 'Bullet', 'sinsas', 1558, 'asi24', 1544, 'e4,d6,Nf3,c5,c3,Nc6,d4,cxd4,cxd4,Bg4,d5,Ne5,Nxe5,Bxd1,Bb5+,Qd7,Bxd7+,Kd8,Kxd1,dxe5,Bh3,Nf6,Nc3,e6,Bg5,Bb4,Bxf6+,gxf6,dxe6,fxe6,Bxe6,Ke7,Bb3,Rad8+,Ke2,Rd4,Ke3,Bc5,Kf3,f5,Nd5+,Kd6,exf5,e4+,Kf4,e3+,Kxe3,Rxd5+,Ke4,Rd4+,Kf3,Ke5,g4,Rd3+,Kg2,Kf4,h3,Rd2,Rac1', 'Rxf2+,Kg1,Rc2+,Kf1,Rxc1+', 'https://lichess.org/training/ggiwt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gGiX8', 'Rapid', 'jambokampy', 1914, 'frzne_abn', 1868, 'e4,c5,d4,e6,d5,exd5,exd5,Nf6,c4,h6,Be3,Bd6,Nc3,O-O,Nf3,Re8,h3,Qb6,Na4,Qb4+,Nc3,Bf4,Qd2,Bxe3,fxe3,d6,Bd3,Nh5,g4,Nf4,O-O-O,Nxd3+,Qxd3,Nd7,Nb5,Ne5,Nxe5,Rxe5,a3,Qa5,Nxd6,Qd8,Nxc8,Rxc8,e4,a6,Rhf1,b5,Rf5,Qe8,Rxe5,Qxe5,Rf1,b4,Rf5,Qh2,axb4,cxb4,b3,a5,Qf3,Qg1+,Qf1,Qe3+,Kb2,Qc3+,Ka2,a4,bxa4,b3+,Ka3,b2+,Ka2,Ra8,Qd1,Rb8,Rf3,Qxc4+,Kb1,Qxe4+,Rd3,Rb4,d6,Rxa4,d7,Ra1+,Kxb2,Rxd1', 'd8=Q+,Kh7,Rxd1', 'https://lichess.org/training/gGiX8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ggje9', 'Rapid', 'Pyronar', 1821, 'raaque08', 1707, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Qb6,Na3,Bxa3,bxa3,f6,Be2,fxe5,dxe5,Bd7,O-O,O-O-O,Be3,Qc7,Qa4,Nxe5,Qxa7,Nxf3+,Bxf3,Bc6,Bb6,Qe7,Qa8+,Kd7,Bxd8,Qxd8,Qxd8+,Kxd8,Rfe1,Ke7,Bg4,Bd7,Rab1,b5,Rbd1,Nf6,f4,Nxg4,h3,Nf6,f5,Ne4,fxe6,Bxe6,Rb1,Bd7,Rbd1,Kd6,Rxe4,Rc8,Rf4,Rc2,Rfd4,Bc6,R4d2,Rc3,Rd3,Rc2,R1d2,Rc1+,Kh2,Rc4,Rf3,d4,Rf7,Ra4,Rxg7,Be4,Rg4,Kd5,Rg5+,Kc4,Rg4,Kd5,Rg5+,Kc4,Rb2,Rxa3,Rbxb5,Rxa2,Rgc5+,Kd3,Rb3+,Kd2,Rcb5,Kc2,R5b4,d3,Rb8,Kc1,Rc8+,Rc2,Rcb8,Rxg2+,Kh1,Rg5+,Kh2,Rg2+,Kh1,Rg5+,Kh2,Rg2+,Kh1,Rg5+,Kh2,Rg2+,Kh1,d2,Rc8+,Bc2,Kxg2,d1=Q,Rbc3,Qd2+,Kg3,Qe1+,Kg4,Qg1+,Kh4,h6', 'Rxc2+,Kb1,Rc1+,Qxc1,Rxc1+,Kxc1,Kh5', 'https://lichess.org/training/ggje9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgJoA', 'Rapid', 'edlar', 2006, 'xeroxx', 2111, 'd4,d5,e3,Nf6,c3,Bg4,Qc2,e6,f4,a6,Bd3,c5,h3,Bh5,g4,Bg6,g5,Bxd3,Qxd3,Ne4,Nd2,Ng3,Rh2,Nf5,Ngf3,Nd7,h4,Rc8,Ne5,cxd4,exd4,Nxe5,fxe5,h6,Nf1,Be7,Ng3,g6,Nxf5,gxf5,Qg3,Rg8,Rg2,b5,a3,a5,Bd2,b4,axb4,axb4,Rc1,b3,Kf2,Ra8,Rcg1,Ra2,Bc1,Qa8,Qd3,hxg5,Qb5+,Kf8,hxg5,Qa4,Qxa4,Rxa4,g6,f6,Bf4,Ra2,Ke3,Ke8,g7,Kf7,Kd3,fxe5,Bxe5,Bf6,c4,dxc4+,Kxc4,Ra5,Kxb3,Bxe5,dxe5,Rxe5,Rc1,f4,Rc7+,Kf6,Kc4,f3,Rf2,Rf5,b4,Rxg7,Rxg7,Kxg7,b5,e5,b6,e4,b7,Rf8,Kc5,e3', 'Rxf3,Rxf3,b8=Q', 'https://lichess.org/training/GgJoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgJPX', 'Classical', 'gh2002', 1757, 'amemulo', 1754, 'e4,c5,Nc3,d6,Nf3,Nf6,d4,cxd4,Qxd4,Nc6,Qd1,e6,Bc4,a6,a4,Be7,O-O,O-O,b3,Qa5,Bd2,Qh5,Be2,Qg6', 'Nh4,Qxe4,Nxe4', 'https://lichess.org/training/GgJPX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgjSM', 'Rapid', 'MrXuister', 1671, 'savita83', 1625, 'd4,d5,e3,c5,c4,Nf6,Nc3,e6,Bd3,Nc6,a3,Be7,dxc5,Bxc5,b4,Be7,c5,a6,Bb2,O-O,Nf3,e5,e4,d4,Nd5,Bg4,Nxe7+,Qxe7,h3,Bh5,Be2,Nxe4,Nd2,Bxe2,Qxe2,Nxd2,Qxd2,Rae8,O-O,f5,Rae1,Rf6,Qg5,Rg6,Qxf5,Qh4,Qd7,Rf8,Qxb7,Qxh3,Qxc6,Qh4,Qe4,Qh5,Qxe5,Qh3,Qe4,Qh5,Bxd4,Rh6,f4', 'Qh2+,Kf2,Rxf4+,Qxf4,Qxf4+', 'https://lichess.org/training/GgjSM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ggJXL', 'Rapid', 'ChessianfromIndia', 1930, 'Phoye', 1937, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,c6,Bg5,Bd6,e3,O-O,Qc2,Nbd7,Rc1,dxc4,Bxc4,e5,d5,b5,Bb3,h6,h4,hxg5,hxg5,e4,dxc6,Nc5,Nd4,Nd3+,Ke2,Nxc1+,Rxc1,a6,gxf6,Qxf6,Nxe4,Qg6,Nxd6,Qxd6,Rh1,g6,Rh6,Kg7,Rh1,b4,Qc4,a5,Qd5,Ba6+,Kd2,Rad8,Qxa5,Qxc6', 'Qe5+,Qf6,Rh7+,Kxh7,Qxf6', 'https://lichess.org/training/ggJXL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ggk6j', 'Rapid', 'fifthArt', 1802, 'afordyce', 1786, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,a6,O-O-O,Bd7,h4,h5,Bf2,Nc6,Be2,b5,Nxc6,Bxc6,g4,Nd7,gxh5,gxh5,Rdg1,Kh7,Qg5', 'Bh6,Be3,Bxg5', 'https://lichess.org/training/Ggk6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgKpD', 'Rapid', 'Poklaknii', 1624, 'azovrost', 1613, 'e4,e5,Nf3,Qf6,d4,exd4,Nxd4,Bc5,Be3,Nc6,c3,Nh6,Nd2,d6,h3,Nxd4,Bxh6,Qxh6,cxd4,Bxd4', 'Qa4+,Bd7,Qxd4', 'https://lichess.org/training/GgKpD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gGktL', 'Rapid', 'vaell', 1875, 'KirthGersen', 1811, 'Nf3,Nc6,c4,e5,e3,e4,Ng1,Nf6,d4,exd3,Bxd3,Ne5,Be2,Bb4+,Bd2,Bc5,Nc3,O-O,Nf3,d6,O-O,Bf5,h3,d5,Nd4,Bg6,Be1,Nxc4,Qb3,Bxd4,exd4,Na5,Qa4,Nc6,Rd1,Re8,Bb5,Re6,f3,a6,Bxc6,Rxc6,Bf2,Qd7,Rfe1,Re8,Rxe8+,Qxe8,Re1,Qd7,Qd1,Rb6,Qe2,Re6,Qd2,Rxe1+,Qxe1,h6,Bg3,c6,Be5,Qe6,Na4,Nd7,Qc3,b5,Nc5,Nxc5,Qxc5,f6,Bg3,Qc8,Bd6,Be8,Qb4,Kh7,a4,Qa8,Qa5,Qa7,Bc5,Qd7,Qb6,Qc8,Qa7,Bg6,Be7,Kh8,Qc5,Bd3,Bf8,bxa4', 'Qe7,Qxf8,Qxf8+', 'https://lichess.org/training/gGktL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ggNrn', 'Rapid', 'm2309a3', 1771, 'Adiahirwar', 1687, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Bxf7+,Kxf7,Qd3,Re8,c4,Bb7,e5,dxe5,Qxd8,Raxd8,cxb5,axb5,Nc3,Bc6,Bg5,Bd6,Bxf6,gxf6,Ne4,Bxe4,Rxe4,c4,Rh4,Kg6,g3,Bc5,Rg4+,Kf7,Rh4,Rd2,Rxh7+,Ke6,Rf1,Rxb2,Rc7,Bd4,Rc6+,Kf5,Ra6,c3,Kg2,b4,Kf3,Rb8,g4+,Kg6,h4,Rb6,Ra8,c2,h5+,Kh7,Ra7+,Kh6,Ra8,Rb1,Rh8+,Kg7,Rc8,Rxf1,Rxc2,b3,axb3,Rxb3+,Kg2,Rfb1,Rc7+,Kh6,Rf7,Kg5,Rg7+,Kh4,h6,R3b2,Kf3,Rxf2+,Ke4,Re1+,Kd5,Rd2,h7,Be3+,Ke6,Bh6', 'h8=Q,Kg3,Qxh6', 'https://lichess.org/training/ggNrn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ggo97', 'Blitz', 'IM Bugzilla', 2624, 'Antonis1642', 2472, 'd4,c5,d5,d6,c4,g6,Nc3,Bg7,e4,Nf6,h3,O-O,Nf3,e6,Bd3,exd5,exd5,Re8+,Be3,Rxe3+,fxe3,Bh6,e4,Nh5,Ne2,Be3,g4,Nf4,Nxf4,Bxf4,Qe2,Bg3+,Kd1,Nd7,Kc2,Ne5,Nxe5,Bxe5,a4,Bd7,Ra2,Qb6,Rb1,a6,Qd2,a5,b3,Ra6,Rf1,Qd8,Rf3,Rb6,Be2,Rb4,Bd1,Qe7,Kc1,Bg7,Qf4,Be5,Qe3,Bd4,Qf4,Be5,Qd2,Bd4,Bc2,Qe5,Qf4', 'Qxf4+,Rxf4,Be3+,Kb2,Bxf4', 'https://lichess.org/training/Ggo97');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgP2M', 'Rapid', 'zarur', 1754, 'mja1991', 1679, 'e4,c5,Nf3,d6,c3,e5,d4,cxd4,cxd4,exd4,Nxd4,Be7,Bd3,Nf6,Nf5,Bxf5,exf5,O-O,O-O,Nc6,Re1,Ne5,Bc2,h6,Nc3,Qb6,Bf4,Neg4,Be3,Nxe3,Rxe3,Bd8,Nd5,Nxd5,Qxd5,Qxb2,Qd1,Bf6,Rb1,Qxa2,Rxb7,Rac8,Bb3,Qa6,Bd5,Bd4,Ree7,Qa3,Rbc7,Rxc7,Rxc7,Bb6,Rb7,Qc5,Qd2,Rc8,g3,Rf8,Kg2,a5,Qa2,Qd4,Bxf7+,Kh8,Be6', 'Qe4+,f3,Qxb7', 'https://lichess.org/training/GgP2M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ggpB2', 'Rapid', 'miracle2106', 2005, 'Dirocs', 2002, 'd4,Nf6,Bf4,d6,Nf3,c6,Nbd2,Qb6,Rb1,Bf5,e3,g6,Bd3,Bxd3,cxd3,Nh5,Bg3,Nxg3,hxg3,Bg7,Qe2,Nd7,Nc4,Qb4+,Nfd2,b5,a3,Qa4,b3,Qa6,Nb2,Qxa3,O-O,O-O,Ne4,Qa6,Qg4,Qb7,Rfc1,Nf6,Nxf6+,Bxf6,f4,Qb6,Nd1,a5,Nc3,b4,Ne4,Bg7,Qd7,Ra7,Qxc6,Qb8,Nd2,e5,dxe5,dxe5,Qf3,exf4,gxf4,Re8,Ne4,a4,bxa4,Rxa4,Rc4,Qb5', 'Nd6,Qd7,Nxe8', 'https://lichess.org/training/ggpB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ggPJ4', 'Classical', 'Samrat_tirelesssoul', 1708, 'hosain1349', 1684, 'e4,c5,Nf3,Nc6,Nc3,d6,Bc4,e6,O-O,Nf6,d3,a6,a3,Be7,Re1,O-O,Bg5,Qc7,Qe2,b5,Ba2,Bb7,Rad1,h6,Bh4,Rad8,d4,cxd4,Nxd4,Nxd4,Rxd4,Qc5,Rd3,Qh5', 'Qxh5,Nxh5,Bxe7', 'https://lichess.org/training/ggPJ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GGSSQ', 'Classical', 'idol1990', 1814, 'Yanshi', 1796, 'e4,e5,Nf3,d6,d4,Nc6,dxe5,Bg4,exd6,Bxd6,Be2,a6,O-O,Bxf3,Bxf3,Ne5,Be2,Nf6,Bd3,h6,Nc3,Qe7,Nd5,Nxd5,exd5,O-O-O,Re1,Qf6,Be4,h5,Qd4,Kb8,Be3,b6,f4,Ng4,Qxf6,gxf6,Bf3', 'Nxe3,Rxe3,Bc5', 'https://lichess.org/training/GGSSQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gGu0o', 'Rapid', 'belhazia', 2015, 'muzo23', 2119, 'e4,c5,Nf3,g6,Nc3,Nc6,Bc4,Bg7,d3,e6,O-O,Nge7,Bg5,O-O,Qd2,f6,Bh6,d5,Bxg7,Kxg7,exd5,exd5,Bb5,Be6,Rfe1,Bf7,Qf4,a6,Bxc6,Nxc6,Re2,Qb6,b3,Qa5,Na4,Rfe8,Rae1,Nd4,Nxd4', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/gGu0o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgujI', 'Rapid', 'msh58', 2065, 'BobKar2016', 1751, 'd4,d5,c4,dxc4,Nc3,Bd7,a4,c6,e4,b5,f4,e6,Nf3,Bb4,Be2,f6,O-O,Bxc3,bxc3,Ne7,e5,O-O,exf6,Rxf6,Ne5,Nd5,Qc2,Be8,f5,h6,fxe6,Rxf1+,Bxf1,Qf6,Bd2,Qxe6,Be2,Nd7,Bg4,Qd6,Bxd7,Bxd7,Rf1,a6,Qe4,Re8,Qh4,bxa4,Qh5,Re7,Ng6,Be8', 'Rf8+,Kh7,Rh8#', 'https://lichess.org/training/GgujI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgUru', 'Rapid', 'mirolord', 1626, 'Alexandrus2', 1623, 'e4,e5,Bc4,Nc6,Nf3,d6,Ng5,Qxg5,O-O,Nd4,d3,Qg6,c3,Ne6,f4,f6,f5,Qf7,fxe6,Bxe6,Nd2,d5,Bxd5,Bxd5,exd5,Qxd5,Ne4,O-O-O,Be3,Qxd3,Re1,Qxd1,Raxd1,Rxd1,Rxd1,f5,Ng5,h5', 'Nf7,Be7,Nxh8', 'https://lichess.org/training/GgUru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gGuY2', 'Classical', 'zeroones', 1674, 'UMGHTDIE', 1608, 'e4,e5,Nf3,Nc6,c3,d6,d4,exd4,cxd4,d5,e5,f6,exf6,Nxf6,Bb5,a6,Ba4,b5,Bb3,h6,O-O,Be7,Nc3,O-O,a3,Be6,Re1,Bf7,Nh4,b4,Ne2,Ne4,Bc2,Bxh4,g3,Be7,Nf4,g5,Nh5,Re8,Bxe4,dxe4,Rxe4,Bd5,Re3,b3,g4,Na5,Qf1,c5,dxc5,Bxc5', 'Rxe8+,Qxe8,Nf6+,Kg7,Nxe8+', 'https://lichess.org/training/gGuY2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ggwdo', 'Blitz', 'IM Erottev', 2560, 'FM Archy17', 2439, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,d5,c4,c6,Qb3,O-O,O-O,a6,Nc3,b5,cxd5,cxd5,Ne5,e6,Bf4,Nbd7,Nc6,Qb6,Ne7+,Kh8,a4,b4,a5,Qxd4,Rfd1,Nc5,Qa2,b3,Qa3,Qc4,Rac1,Bb7,Ncxd5,Qxe2,Nxf6,Bxg2,Kxg2,Nd3,Rd2', 'Nxf4+,gxf4,Qxd2', 'https://lichess.org/training/Ggwdo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gGwEC', 'Blitz', 'Porcopeideiro', 1650, 'Cow1337killr', 1648, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,d6,Bc4,e6,Nge2,Be7,O-O,O-O,f4,a6,f5,b5,Bb3,Qb6+,Kh1,exf5,exf5,Ng4,Bd5,Bb7,Bxc6,Bxc6,Qd4,Bd8,Qxg4,Bc7,Bh6,g6,Bxf8,Rxf8,f6,Qe3,Rad1,Re8,Rd3,Qh6,Rh3,Qd2,Rd1,Qxc2,Qh4,h5,Nf4,Re4,Rg3', 'Qxd1+,Nxd1,Re1#', 'https://lichess.org/training/gGwEC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gGWi7', 'Rapid', 'Static27o', 2081, 'jck_jck', 2048, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Nf3,Bg4,h3,Bxf3,Bxf3,Nc6,d5,Ne5,Qe2,Nxf3+,Qxf3,Nd7,Bd2,e5,h4,h5,g4,Nf6,gxh5,Nxh5,Bg5,Qd7,O-O-O,b5,cxb5,Rab8,a4,a6,bxa6,Ra8,Qd3,Rfb8,Kc2,Rb6,Nb5,Rbxa6,Qc4,Rxa4,Qxc7,Qxb5,Qxd6,Qe2+,Rd2,Rc4+,Kb3,Qxe4,Re1,Qg4,f3,Qc8,Qd8+,Bf8,Qxc8,Rcxc8,Rxe5,Rab8+,Ka2,Bg7,Re7,f6,Be3,Bf8,Re6,Kf7,Ra6,Ng7,Ra7+,Kg8,d6,Nf5,d7,Rd8,Bf4,Rb4', 'Bc7,Rxd7,Rxd7', 'https://lichess.org/training/gGWi7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ggWjT', 'Rapid', 'y0O7', 1707, 'fierro74', 1720, 'e4,e5,Nf3,Nc6,Bc4,Be7,Nc3,Nf6,d3,d6,Ng5,O-O,h4,h6,Nf3,Be6,Nd5,Nd4,Nxd4,exd4,g4,Bxg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/ggWjT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GGXKh', 'Rapid', 'Ali1497', 1970, 'sjakkmesteren', 1879, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bg4,Bb5+,Nc6,O-O,a6,Be2,Nf6,Bg5,e6,c3,Be7,Nbd2,b5,a3,O-O,Re1,Rb8,Ne5,Nxe5,dxe5,Bxe2,Qxe2,Nd7,Bxe7,Qxe7,f4,Rfc8,Nf3,Nc5,Nd4,Ne4,g3,Qc5,Kg2,a5,Rac1,b4,axb4,axb4,Qd3,bxc3,bxc3,Rb2+,Kg1,g6,Re2,Rb3,Rec2,Rxc3,Rxc3,Nxc3,Kg2,Qb4,Ne2,Qb2,Rxc3', 'Rxc3,Qxc3,Qxe2+', 'https://lichess.org/training/GGXKh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ggy1l', 'Rapid', 'GarrySkapparov', 1704, 'Parijatgoswami', 1750, 'e4,c5,Nc3,Nc6,Bb5,g6,Bxc6,bxc6,e5,d5,exd6,exd6,Nf3,d5,d3,Bg7,d4,Qe7+,Be3,cxd4,Nxd4,c5,Nc6,Qe6,Qxd5', 'Bxc3+,bxc3,Qxd5', 'https://lichess.org/training/Ggy1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gGYAy', 'Rapid', 'DimaAleksandrov', 1824, 'DancingMiniMe', 1802, 'd4,Nf6,Nc3,g6,e4,d6,Bc4,Bg7,h3,O-O,Bg5,Nbd7,Nf3,c5,dxc5,Nxc5,Bxf6,Bxf6,h4,Bg4,h5,Bxh5,Rxh5,gxh5,Qe2,Qa5,e5,dxe5,Nxe5,Bxe5,Qf3,Bg7,Kf1,Qb4,Bb3,Nxb3,axb3,h4,Ra4,Qd6,Rxh4,Rad8,Rg4,Qh2,Nd5,h6,c3,Qh5', 'Rxg7+,Kxg7,Qxh5', 'https://lichess.org/training/gGYAy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GGYLt', 'Blitz', 'skakidrama', 2430, 'FM Jazzyjef', 2482, 'd4,g6,Bf4,Bg7,Nc3,d6,e4,Nd7,Nf3,e5,dxe5,dxe5,Bg5,Ne7,Nd5,f6,Be3,c6,Nxe7,Qxe7,c3,O-O,Bc4+,Kh8,O-O,b5,Bb3,Nc5,Bc2,Be6,Qe2,Bc4,Qe1,Rad8,b4,Ne6,a4,a6,axb5,axb5,Ra7,Rd7,Rxd7,Qxd7,Qd1,Qe7,Re1,Rd8,Qa1,Nf4,Bxf4,exf4,Nd4,Qc7,Qa6,c5,Nxb5,Qd7,Ba4,f5,h4,Bxc3,Rd1,Bd4,bxc5,Bxb5,Bxb5,Bxf2+', 'Kxf2,Qxd1,Qf6+,Kg8,Bc4+', 'https://lichess.org/training/GGYLt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GGYMx', 'Rapid', 'Maitham_salah', 1624, 'kanegro', 1947, 'e4,e6,Nf3,c5,d3,Nc6,g3,Nge7,Bg2,Ng6,O-O,Be7,c3,O-O,d4,d5,e5,f5,exf6,Rxf6,Re1,Rf8,Ne5,cxd4,cxd4,Bf6,Nxg6,hxg6,Be3,e5,dxe5,Bxe5,Bxd5+,Kh7,Nc3,Bf5,Rc1,Qf6,Be4,Rad8,Qf3,Nd4,Bxd4,Bxd4,Bxf5,Qxf5,Qxf5,Rxf5,Rc2,a6,Kg2,b5,Ne4,Re8,f3,Kh6,Ree2,Ref8,f4,a5,Nd6,Rd5,Ne4,Bf6,Rc5,Rxc5,Nxc5,Rc8,Ne6,a4,g4,g5,f5,b4,Re3,Kh7,Rh3+,Kg8,b3,a3,Rf3,Rc3,h3,Rc2+,Rf2,Rc3,Rf3,Rc1,Rf1,Rc6,Re1', 'Rc2+,Kf3,Rxa2', 'https://lichess.org/training/GGYMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GgzLq', 'Blitz', 'mohamed7', 1909, 'fisarg', 1920, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,Nc3,Bd7,d3,b5,Bb3,f6,h3,Be7,Bxg8,Rxg8,Nd5,Be6,Nxe7,Kxe7,c3,Na7,O-O,g5,Nh2,Qe8,d4,h5,d5,Bd7,Be3,Qg6,Qd3,g4,h4,Nc8,g3,Kf7,Kg2,Ne7,b3,f5,Bg5,fxe4,Qd2,Nf5,c4,Rab8,Rfe1,Ng7,Qa5,bxc4,Qxc7,Qf5,Qxd6,cxb3,axb3,Rgc8,Rxa6,Rxb3,Qe7+,Kg8,Bf6,Qg6,Qxd7,Rc2,Bxg7,Qxg7,Qe6+,Qf7,Ra8+,Kg7,Qxe5+,Kg6,Ra6+,Kh7,Qxe4+,Kg7,Ra8', 'Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/GgzLq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GH5TQ', 'Rapid', 'LiamAWhelan', 2001, 'dado1962', 1981, 'd4,Nf6,Nf3,d5,c4,e6,Bg5,Be7,Bxf6,Bxf6,Nc3,c6,e3,O-O,Bd3,h6,h4,Qa5,g4,dxc4,Bxc4,b5,Bd3,b4,Ne4,Be7,b3,f5,Neg5,hxg5,hxg5,fxg4,Ne5,Rf5,Qxg4,Rxg5,Rh8+,Kxh8,Qh4+,Kg8', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/GH5TQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gH75e', 'Rapid', 'GranAL', 2162, 'faustopuntier', 2246, 'e4,c5,Nc3,d6,f4,g6,Nf3,Bg7,Bb5+,Bd7,Bc4,Nc6,O-O,e6,d3,Nge7,f5,exf5,Qe1,Nd4,Nxd4,cxd4,Ne2,O-O,Qh4,fxe4,dxe4,Qb6,Kh1,Nc6,Bh6,Bxh6,Qxh6,Ne5,Bb3,Ng4,Qf4,Qc5,Bxf7+,Kg7,h3,Be6,hxg4,Rxf7,Qd2,Bxg4', 'Rxf7+,Kxf7,Qf4+,Kg8,Qxg4', 'https://lichess.org/training/gH75e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GHcCV', 'Blitz', 'Maki1168', 1705, 'rrayeee', 1753, 'f4,e6,Nf3,d5,d4,Nf6,e3,Be7,Nbd2,O-O,c4,c5,cxd5,exd5,Be2,c4,O-O,Bg4,Ne5,Bxe2,Qxe2,Nbd7,b3,c3,Ndf3,Nxe5,fxe5,Ne4,Qc2,Rc8,a4,Bb4,Ba3,Bxa3,Rxa3,a5,Rc1,Qe7,Raa1,h6,Ne1,Nd2,Nd3,Qg5,Nf4,Nf3+,Kf2,Nxh2,Nxd5,Ng4+,Kg1,Nxe3,Nxe3,Qxe3+,Qf2,Qd2,Qxd2,cxd2,Rd1,Rc2,Kf2,Rd8,Ke3,Rc3+,Ke4,Rc2,Rab1,f5+,Ke3,g5,b4,axb4,Rxb4,f4+,Ke4,Rd7,e6,Re7,d5,Kg7,Ke5,g4,d6,Rc5+,Kxf4,Rxe6,Rxb7+,Kg6,Rxd2,Rf6+,Kg3,Rc3+,Kxg4', 'h5+,Kh4,Rf4+,g4,Rxg4#', 'https://lichess.org/training/GHcCV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GHChh', 'Blitz', 'FM VLABOR64B', 2232, 'Ploppen77', 2285, 'd4,d5,c4,e6,Nc3,c5,Nf3,cxd4,Qxd4,Nc6,Qd1,d4,Ne4,f5,Ng3,e5,e4,f4,Ne2,Nf6,Qa4,Bd7,Bd2,Nxe4,Qb5,Nxd2,Nxd2,Bb4,O-O-O,Bxd2+,Rxd2,O-O,f3,Re8,Kb1,a5,Nc1,Qc7,Qd5+,Be6,Qe4,g6,Qe1,Nb4,a3,Bf5+,Ka1,Nc2+,Rxc2,Bxc2,h4,d3,Bxd3,Bxd3,Nxd3,Qxc4,Nf2,b5,Ne4,b4,Nf6+,Kg7,Nxe8+,Rxe8,Qd2,Re7,Rc1,Qb3,Qd6,Kf7,Rc6,bxa3', 'Qf6+,Kg8,Rc8+,Re8,Rxe8#', 'https://lichess.org/training/GHChh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GHeBa', 'Classical', 'Aequus', 1944, 'budunungazabi', 1848, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Bf5,Nc3,Nf6,Qb3,b6,Nf3,e6,Bxb8,Rxb8,e4,Nxe4,Bb5+,Ke7,Ne5,Nxc3', 'Nc6+,Kf6,Nxd8', 'https://lichess.org/training/GHeBa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gheFL', 'Rapid', 'francopobbio', 2140, 'galelo2007', 2202, 'c4,e5,Nc3,Nf6,f4,exf4,d4,Bb4,Bxf4,O-O,Qb3,Bxc3+,bxc3,Ne4,Nf3,h6,e3,c6,Bd3,d5,cxd5,cxd5,Bxb8,Rxb8,O-O,Be6,Ne5,Nd2,Qc2,Nxf1,Rxf1,Qg5,Qf2,a6,h4,Qe7,Bb1,Rbc8,Qc2,f5,Ng6,Qc7,Nf4,Rce8,Nxe6,Rxe6,Rxf5,Rxf5,Qxf5,Qd6,Qh7+,Kf7,h5,Rxe3,Bg6+,Kf6,Qg8,Re7', 'Qf8+,Kg5,Qf5+,Kh4,Qh3+', 'https://lichess.org/training/gheFL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GhEID', 'Rapid', 'jamessubje', 2430, 'Reztap', 2159, 'c4,e5,Nc3,Nf6,g3,Nc6,Bg2,Bb4,Qc2,O-O,Nf3,d6,a3,Bc5,b4,Bb6,d3,a6,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,Nxb6,cxb6,b5,Na5,O-O,Be6,Nd2,Rc8,Qb2,axb5,Qxb5,Bd7,Qb2,Bc6,Rfb1,Bxg2,Kxg2,Rc6,Ne4,d5,cxd5,Qxd5,Kg1,Rfc8,Rc1,f5,Nd2,Kh8,Nf3,e4,Ne5', 'Rxc1+,Rxc1,Rxc1+,Qxc1,Qxe5,Qc8+,Kh7', 'https://lichess.org/training/GhEID');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHfi9', 'Classical', 'kafula', 1793, 'mlody1018', 1776, 'e4,e5,Bc4,Nf6,Nf3,Nc6,d4,exd4,e5,d5,exf6,dxc4,Qe2+,Be6,fxg7,Bxg7,O-O,Qd7,Re1,O-O-O,Bf4,d3,cxd3,cxd3,Qd2,Nd4,Nxd4,Qxd4,Nc3,Rhe8,Nb5,Qxb2,Qa5,b6,Qxa7,Re7,Rec1,Qxb5', 'Rxc7+,Rxc7,Qxc7#', 'https://lichess.org/training/gHfi9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GHfV1', 'Blitz', 'iamtheteacher', 2171, 'romania1234', 1788, 'e4,d6,d4,Nf6,Nc3,Nc6,f4,e6,e5,dxe5,fxe5,Nd5,Nf3,Bb4,Qd3,Bxc3+,bxc3,Bd7,Be2,O-O,Ng5,g6,Qh3,h5,Bxh5,f5,Bxg6,Rf7,Bxf7+,Kf8,Qh8+,Ke7,Ba3+,Ncb4,Qf6+,Nxf6', 'Bxb4+,c5,Bxc5#', 'https://lichess.org/training/GHfV1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHG9M', 'Bullet', 'dark_horizon', 2006, 'Lsgc', 2029, 'c4,Nf6,Nc3,e6,e4,d5,e5,d4,exf6,dxc3,bxc3,Qxf6,d4,c5,Nf3,h6,Bd3,Nc6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Be3,Qd8,Rb1,Be7,Be4,O-O,Bxb7,Bxb7,Rxb7,Bf6,Qa4,Qc8,Rfb1,Rd8,c5,Be7,Qb5,Bf8,h3,Rd5,Rc1,a6,Qb6,f5,c6,Bd6,c7,Bxc7,Rbxc7,Qe8,Qc6,Qg6,Rc8+,Rxc8,Qxc8+,Kh7,Rc6,f4,Bxf4,Qe4,Qxe6', 'Rd1+,Kh2,Qxf4+,g3,Qxf2#', 'https://lichess.org/training/gHG9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ghGUJ', 'Rapid', 'Antony_N', 1967, 'VikTor-62', 2016, 'e4,c5,Nc3,Nc6,Bc4,e6,Nf3,Nf6,d4,h6,O-O,cxd4,Nxd4,Bc5,Nxc6,bxc6,Bd3,d6,Kh1,a5,a3,Ba6,f4,Bxd3,cxd3,d5,e5,Nh7,d4,Be7,f5,O-O,Qh5,Bg5,f6,g6,Qh3,Bxc1,Raxc1,h5,Qe3,Kh8,Qh6,Rg8,Ne2,Qb6,Rb1,g5,Qxh5,Rg6,Rfc1,Qb5,Rc3,g4,Nf4,Rg5,Qxf7,Rag8,Nxe6,Rf5,Rcc1,Qe2,Re1,Qf2,Ng7,Rxg7', 'fxg7#', 'https://lichess.org/training/ghGUJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHhax', 'Rapid', 'bootvinnik', 2089, 'Benteng_Gaibs', 2128, 'd4,Nf6,c4,e5,d5,b5,cxb5,Bb7,Nc3,a6,e4,Bb4,Bg5,O-O,bxa6,Rxa6,Bxa6,Nxa6,Ne2,h6,Bxf6,Qxf6,O-O,c6,a3,Bc5,b4,Bb6,Na4,Ba7,Rc1,cxd5,exd5,Qd6,Nec3,Bd4,Nb5', 'Qxd5,Qg4,Qxb5', 'https://lichess.org/training/gHhax');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHHWW', 'Blitz', 'Raerhix27', 1914, 'vulechess', 1915, 'e4,e5,a4,Nf6,Nf3,d6,Bc4,Bg4,a5,Nxe4,Nc3,Nxc3,dxc3,Nc6,Nxe5,Bxd1', 'Bxf7+,Ke7,Bg5#', 'https://lichess.org/training/gHHWW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ghk6R', 'Rapid', 'uluk', 1899, 'rsydor', 1882, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,Nf6,Re1,g6,c3,Bg7,d4,Nxd4,cxd4,cxd4,Ng5,O-O,Qxd4,Nd7,Qe3,Ne5,Bb3,Bh6,f4,Ng4,Qh3,Qb6+,Be3,Nxe3,Qxe3,Bg7,Nc3', 'Bd4,Qxd4,Qxd4+', 'https://lichess.org/training/Ghk6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHKgw', 'Rapid', 'Defesafrancesa', 2255, 'Nywolf', 2201, 'Nf3,Nf6,d4,g6,c3,Bg7,Nbd2,O-O,e4,d6,Bd3,Nbd7,O-O,e5,Re1,Re8,d5,a5,a4,Nh5,g3,Nc5,Bc2,Rf8,b4,Na6,Bd3,axb4,Bxa6,Rxa6,cxb4,f5,b5,Ra8,exf5,gxf5,Nh4,Nf4,Nc4,e4', 'Bxf4,Bxa1,Qxa1', 'https://lichess.org/training/gHKgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHLJa', 'Blitz', 'MateInMinusThree', 2108, 'Dario_venezuela', 2031, 'e4,c6,Nc3,d5,d3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Be3,Bf5,Qd2,a5,O-O-O,Bd6,Re1,O-O,h3,b5,g4,Be6,f4,Bxa2,Nf3,a4,g5,a3,b3,c5,h4,Nc6,h5,Na5,Qc3,b4,Qa1,Bxb3,gxf6,Re8,Rg1,g6,hxg6,hxg6,Ne5,Qxf6,Bd2,Bxc2,Kxc2,b3+,Kb1,a2+,Kc1,c4,Bxa5,Ba3+,Kd2,Qxf4+,Re3,Qf2+,Re2,Qf4+,Kd1,Rxa5,Nxg6,fxg6', 'Rxg6+,Kf7,Qg7#', 'https://lichess.org/training/gHLJa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GHNUL', 'Rapid', 'Fakharha', 1820, 'Maxd2008', 1795, 'd4,d5,c4,e6,e3,Nf6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,b4,a6,a4,Bd7,c5,b6,Bd3,bxc5,bxc5,Nc6,Rb1,a5,Bb5,Rb8,O-O,Na7,Bxd7,Qxd7,Rc1,Nc6,Ne5,Nxe5,dxe5,Ne8,c6,Qe7,e4,dxe4,Nxe4,Qb4,Rb1,Qxe4,Rxb8,Qxc6,f4,Qa6,Qd7', 'Qa7+,Kh1,Qxb8', 'https://lichess.org/training/GHNUL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GhonQ', 'Classical', 'Mehmet8-15', 1654, 'conor-pappas', 1761, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,Bf5,f3,e6,g4,Qh4+,Ng3,Bd6,Ne2,Bg6,Bf4,Bxf4,Nxf4,Nf6,Bd3,Nbd7,Qd2,O-O-O,O-O-O,Bxd3,Qxd3,e5,dxe5,Nxe5,Qf5+,Ned7,Ne4,g6,Qa5,Nxe4,fxe4,Kb8', 'Rxd7,Rxd7,Qe5+,Ka8,Qxh8+', 'https://lichess.org/training/GhonQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GhQHL', 'Rapid', 'Claudiojp', 1685, 'Bikorl', 1645, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,h6,h3,g5,Bh2,e6,Nbd2,Nc6,c3,Ne4,Nxe4,dxe4,Ne5,Nxe5,Bxe5,f6,Qh5+,Kd7,Bg3,Qe7,Bh2,Rd8,Qe2,Kc8,Qc4,e5,Be2,Be6,Qa4,a6,O-O,exd4,cxd4,Qd7,Rfc1,Bd6,Qxd7+,Rxd7,Bxd6,Rxd6,Rc3,Rc6,Rxc6,bxc6,Bxa6+,Kd7,Rc1,Ra8,Bb7,Rxa2,Bxc6+,Kd6,b4,Rb2,b5,Bd7,Bxe4,Bxb5,d5,Rb4,Bf3,Bc4,e4,Bd3,Rc6+,Kd7,Rxf6,Bxe4,Bxe4,Rxe4,Rxh6,Re5,Rh7+,Kd6,Rh6+,Kxd5,Rh7,c5,h4,gxh4,Rxh4,Re4,Rh8,c4,Rd8+,Kc5,Rc8+,Kb4,Kf1,Kb3,Rb8+,Kc2,f3,Rd4,g4,c3,g5,Kd3,g6', 'c2,Rc8,Rc4,Rxc4,Kxc4,g7,c1=Q+', 'https://lichess.org/training/GhQHL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHqZs', 'Classical', 'tahatavaci', 1663, 'Aayush_0507', 1667, 'e4,Nc6,d4,g6,Bd3,Bg7,Be3,Nf6,Nf3,d6,Nc3,Bg4,h3,Bxf3,Qxf3,Qd7,b3,O-O-O,a4,h5,h4,Bh6,Bxh6,Rxh6,d5,Ne5,Qf4,Rhh8,Bb5,Qg4,Qe3,a6,Qa7,c6,dxc6,bxc6,Bxc6,Nxc6,Qxa6+,Kc7,Nb5+,Kd7,Qb7+,Ke6,Qxc6,Nxe4,Nd4+,Ke5,Rd1,Rc8,Qb5+,Kf6,f3,Qxg2,Rf1,Rb8,Qd5,Ng3,Qg5+,Kg7,Rf2', 'Qg1+,Rf1,Qxf1+', 'https://lichess.org/training/gHqZs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ghRSI', 'Blitz', 'kobaltus', 1812, 'mazur89', 1828, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,Nf3,h6,Bf4,O-O,e3,c5,Be5,Nc6,Bxf6,Bxf6,dxc5,dxc4,Bxc4,Bxc3+,bxc3,Qa5,O-O,Qxc5,Qb3,a6,Rfd1', 'Na5,Qb4,Qxb4,cxb4,Nxc4', 'https://lichess.org/training/ghRSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHs2i', 'Rapid', 'ramadane9595', 1867, 'kkatos', 1880, 'e4,e5,Nf3,f5,exf5,d6,d4,e4,Ng5,Bxf5,Bc4,d5,Bb3,c6,Bf4,Be7,Nh3,Nf6,Nc3,Nbd7,Qd2,a5,a3,b5,Ne2,O-O,Ng3,Bg6,f3,exf3,gxf3,Re8,O-O-O,b4,a4,Nh5,Bg5,Bxg5,Qxg5,Qxg5+,Nxg5,Ndf6,Rde1,h6,Nh3,Nxg3,hxg3,Nh5,g4,Nf6,Nf4,Bh7,Ne6,Re7,Nc5,Rae8,Rxe7,Rxe7,Kd2,Bg6,c4,dxc4,Bxc4+,Nd5,b3,Bf7,Ne4,Nf4,Bxf7+,Kxf7,Re1,Rd7,Kc2,Rxd4,g5,Nd5,gxh6,gxh6,Nd6+,Kg6,Re6+,Kh5,Re5+,Kg6,Re6+,Kh7,Nf5,Rf4,Rxh6+,Kg8,Nh4,Ne3+,Kd3,Nf5,Nxf5,Rxf5,Ke4,Rc5,f4,Rc3,Rh5,Rxb3,Rxa5,Ra3,Rg5+,Kf7,a5,b3,Rg3', 'b2,Rxa3,b1=Q+', 'https://lichess.org/training/gHs2i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GHsfM', 'Rapid', 'NemojMeGasit', 1811, 'mojahed12', 1803, 'e4,c5,Nf3,e6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,Bb4+,Nbd2,Nc6,Bc4,O-O,Bxd5,exd5,O-O,d6,a3,Ba5,b4,Bc7,exd6,Qxd6,h3,Nxd4,Bb2,Nb5,a4,Qxb4,Bxg7,Kxg7,axb5,Rg8,Rb1,Qd6,Qb3,Kf8,Kh1,Be6,Rbd1,Ke7,Qb1,Rg6,Nc4,Qf4,Rd4,Qf6,Qb4+,Ke8,Nd6+,Bxd6,Qxd6,Rd8,Qf4,Qg7,Ne5,Rh6,Kh2,Rf6,Qg3,Qxg3+,Kxg3,Ke7,Re1,Rg8+,Kh2,Rxf2,Ng4,Rb2,Rxd5,h5,Rd7+,Kxd7,Nf6+,Ke7,Nxg8+,Ke8,Nf6+,Ke7,Nxh5,Rxb5,Nf4,Rb6', 'Nd5+,Kd6,Nxb6', 'https://lichess.org/training/GHsfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHSka', 'Rapid', 'mrheertjes', 1865, 'Lead2000', 1846, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d3,Bd6,Be2,O-O,O-O,Nc6,c3,Re8,Nd2,Bf5,Nc4,Rad8,Nxd6,Rxd6,Bxf4,Rde6,Bf3,Qd7,d4,Na5,b3,b5,Qd2,a6,d5,R6e7,Rfe1,Be4,Bxe4,Rxe4,Rxe4,Rxe4,Bg3,h5,h4,Nb7,Rf1,Nd6,Qd3,Qg4,Qf3,f6,Qxg4,Rxg4,Kh2,Kf7,Bxd6,cxd6,g3,Re4,Rf2,Re1,Rc2,Rd1,c4,b4,Re2,a5,Kg2,g5,hxg5,fxg5,Kf3,Rf1+,Rf2,Rxf2+,Kxf2,Kf6,Kf3,Kf5,Ke3,h4,gxh4,gxh4,Kf3,Kg5,Kg2,Kf4', 'c5,Ke5,c6', 'https://lichess.org/training/gHSka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHUbV', 'Rapid', 'Yudi-aja', 2074, 'psyko03', 1808, 'e4,e5,Bc4,Bc5,Nf3,Nc6,O-O,Nf6,Nc3,d6,h3,O-O,a3,a6,b4,Ba7,d3,Be6,Ba2,h6,Ne2,Ne7,Ng3,Qd7,c4,Bxh3,gxh3,Qxh3,Nf5,Nxf5,exf5,Qxf5,Nh2,e4,d4,c5,Be3,Bb8,d5,cxb4,axb4,Ba7,Qe2,Qe5,Rac1,Nd7,Kh1,f5,Rg1,f4,Bxa7,Rxa7,Rg6,b6,Rcg1,Nf6,Ng4', 'Qh5+,Nh2,Qxe2', 'https://lichess.org/training/gHUbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ghUPj', 'Rapid', 'bronze_dragon', 2130, 'TheGreatPatzer', 1886, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,d3,Bg4,Nbd2,Nd7,h3,Bh5,b3,f6,Bb2,e5,g4,Bg6,Nc4,Qc7,h4,O-O-O,h5,Bf7,Ne3,g6,hxg6,Bxg6,Nh4,Bh6,Nef5,Qa5+,Kf1,c4,bxc4,Nc5,Qe1,Qb6,Bc1,Bxc1,Qxc1,Bf7,Kg2,Kb8,a4,h5,f3,Rdg8,a5,Qd8,Kg3,Be6,Qe3,Na6,c3,Bxf5,Nxf5,Qf8,d4,Nc7,d5,cxd5,cxd5,Ne8,a6,b6,c4,Ng7,c5,Nxf5+,exf5,hxg4,fxg4,Qxc5,Qxc5,bxc5,Rab1+,Kc7,Rb7+,Kd6,Rxh8,Rxh8,Rxa7,Kxd5,Rf7,c4,a7,c3,Rc7,Kd4,g5,fxg5,f6,Rf8,f7,Kd3,Kg4,c2,Kxg5,Kd2,Kg6,c1=Q', 'Rxc1,Kxc1,Kg7,Ra8,f8=Q', 'https://lichess.org/training/ghUPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ghUT0', 'Blitz', 'manne28', 2086, 'Patrick_-1', 2093, 'd4,Nf6,c4,e6,Nf3,c5,d5,exd5,cxd5,d6,Nc3,g6,e4,Bg7,Be2,O-O,O-O,a6,a4,Re8,Nd2,Nbd7,Qc2,Ne5,h3,g5,Nc4,Nxc4,Bxc4,g4,h4,Nxe4,Nxe4,Qxh4,Bg5,Qh5,Nf6+,Bxf6,Bxf6,Bf5,Qd2,h6,Rfe1,Be4,Qf4,Qg6,Bc3,f5,Rad1,Re7,Bd3,Rae8,Bxe4,Rxe4,Rxe4,Rxe4,Qd2,g3,f3,Rxa4,Qe1,Kf7,Qe2,Rh4,Rd3', 'Rh1+,Kxh1,Qh5+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/ghUT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHuU3', 'Rapid', 'sativus', 1639, 'daBALYAN8', 2111, 'd4,d5,Bg5,h6,Bh4,g5,Bg3,Bg7,e3,Nf6,Be5,O-O,Bxf6,Bxf6,h3,Bg7,Be2,f5,Nd2,f4,exf4,Rxf4,c3,c6,g3,Rf8,Bg4,Bxg4,Qxg4,Nd7,Ngf3,Nf6,Qe6+,Kh7,Ne5,Qc8,Qxc8,Raxc8,O-O-O,c5,dxc5,Rxc5,Nd3,Rc7,Nb3,b6,Nd4,Rc4,f3,Rfc8,Kb1,Nd7,Rhe1,e5,Nf5,R8c6,Nxg7,Kxg7,Nxe5,Nxe5,Rxe5,Rf6,Re7+,Kg6,Rxd5,Rxf3,Rd6+,Rf6,Rxf6+,Kxf6,Rxa7,Rc6,Ra6,Ke5,Kc2,Rf6,Kb3,h5,Kc4,Rf3,Rxb6,Rxg3,Rb5+,Kf4,h4,gxh4,Rxh5,Rg4,Kb3,Kg3,Rh8,h3,a4,h2,a5', 'Rh4,Rxh4,Kxh4', 'https://lichess.org/training/gHuU3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ghv9H', 'Rapid', 'Spartano', 1805, 'michele31795', 1667, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,h3,h6,O-O,Na5,Bb5+,c6,Ba4,b5,Bc2,Be6,b4,Nb3,Bxb3,Bxb3,Qxb3,Bb6,a4,bxa4,Qxa4,Qd7,Be3,O-O,Nbd2,Nh5,Nc4,Bxe3,Nxe3,Nf4,d4,Ne2+,Kh2,Nxc3,Qc2,exd4,Nxd4,Nb5,Nxb5,cxb5,Nd5,Rfc8,Qd3,Rc4,Qg3,Kh8,f3,Rac8,Qf4,f5,Ne3,Rxb4,Nxf5,d5,Nd6,Rc2,Qf8+,Kh7,e5,Rbb2,Rg1,Re2,Nf7,Qf5,Qh8+,Kg6,Nd6,Qxe5+,Kh1,Qxd6,Rxa7,Qf6,Qc8,Qg5,Qg4,Qxg4,hxg4,b4,Kh2,b3,Kg3,Rbd2,Rb7,b2,f4,Re3+,Kh4,Ree2,Kg3,d4,Rb6+,Kh7,g5,d3', 'g6+,Kh8,Rb8+,Re8,Rxe8#', 'https://lichess.org/training/ghv9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GhwIY', 'Classical', 'Smart089', 1774, 'fadel-chess', 1740, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nc3,Ne5,f4,Bg4,Be2,Bxe2,Qxe2,Nd7,Be3,Be7,O-O-O,a6,g4,c5,Nf5,Bf8,Nxd6+,Bxd6,e5,Be7,Nd5,Qa5,Kb1,Kf8,Bf2,Nh6,f5,Bg5,e6,Nf6,e7+,Ke8,Nc7+,Qxc7,Bg3,Qxe7,Qd3,Rd8,Qb3,Rxd1+,Rxd1,b5,Qf3,Qe4', 'Re1,Qxe1+,Bxe1', 'https://lichess.org/training/GhwIY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ghWkM', 'Classical', 'gscetin', 1724, 'Diego929', 1724, 'e4,c5,c3,e6,d4,cxd4,cxd4,a6,Nf3,Qc7,Nc3,Bb4,Bd2,Nf6,Bd3,b5,e5,Bxc3,Bxc3,Nd5,Be4,Bb7,Bxd5,Bxd5,O-O,Nc6,Qd2,Ne7,Qf4,Qb7,Bb4,Bxf3,Qg5,O-O', 'Bxe7,h6,Qg3', 'https://lichess.org/training/ghWkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GHWtO', 'Rapid', 'nejihamza', 1638, 'KutuzovGambit', 1663, 'd4,Nf6,c4,g6,Nf3,d5,Qb3,dxc4,Qxc4,Be6,Qb5+,Nc6,e3,b6,Ne5,Bd7,Nxc6,a6,Qa4,b5,Qc2,Bf5,Qxf5,gxf5,Nxd8,Rxd8,Bd3,e6,Nc3,b4,Na4,a5,Bb5+,Ke7,O-O,Bh6,Bd2,Ne4,Rfd1,e5,f3,Nxd2,Kf2,exd4,exd4,Rxd4,Re1+,Kf6,Re2,Rd5,Bc6,Rd6,Bb5,Rb8,Be8,Nc4,b3,Ne3,Bxf7,Kxf7,Rxe3,Bxe3+,Kxe3,Re8+,Kf4,Kf6,Rc1,Rd4+,Kg3,f4+,Kh3,Re7,Rc6+,Rd6,Rc5,Re5,Rxc7,Rh5+,Kg4,Rxh2,Nc5,Rxg2+,Kxf4,Rc2', 'Ne4+,Kg6,Rxc2', 'https://lichess.org/training/GHWtO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHxlr', 'Rapid', 'califkid', 2077, 'newfear', 2050, 'e4,e5,Nc3,Nc6,f4,d6,Bc4,Nf6,Nf3,Be7,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Be3,Nd4,Qd1,Nc6,O-O,O-O,Qe2,exf4,Rxf4,Bd6,Rd1,Qe7,Rh4,Ne5,Bb3,Nfg4,Rxg4,Nxg4,Qxg4,Rad8,Nd5,Qe5,Bf4,Qxb2,c3,Bxf4,Qxf4,c6,Ne7+,Kh8,Rf1,Qxc3,Bxf7,Qb4', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/gHxlr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHxvo', 'Rapid', 'Vakabular', 1644, 'Mertrix', 1611, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,h6,d3,Bb4,Be3,Bxc3+,bxc3,d5,Bb5,Bd7,exd5,Nxd5,Bxc6,Nxe3', 'Bxd7+,Qxd7,fxe3', 'https://lichess.org/training/gHxvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gHytE', 'Classical', 'Electric-Eye', 2248, 'Nitsyn', 2091, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,dxe5,Nf5,Qxd8+,Kxd8,h3,Be7,g4,Nh4,Nxh4,Bxh4,f4,h5,f5,hxg4,hxg4,b6,Nc3,Bb7,Bf4,Ke7,Rad1,Rad8,Rxd8,Rxd8,Rd1,Rh8,Kg2,a6,Kf3,Rd8,Rxd8,Kxd8,g5,Be1,Ne4,c5,f6,gxf6,exf6,b5,Bxc7+,Kxc7', 'g6,fxg6,f7', 'https://lichess.org/training/gHytE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gi2zv', 'Blitz', 'FM Mavi_alpha', 2583, 'FM Lex6699', 2530, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Qb6,Qd2,Qxb2,Nb3,Qa3,Bd3,Nbd7,O-O,Be7,Rae1,Nc5,Kh1,O-O,e5,dxe5,fxe5,Nxb3,axb3,Nd5,Nxd5,Bxg5,Qxg5,exd5,Rf4,h6,Qh5,Be6,Rf6,Qa5,Ref1,Rae8,Rxh6,gxh6,Qxh6,f5,Qg5+,Kf7,Be2,Rh8,Qf6+,Kg8,Qg6+,Kf8,Rxf5+,Bxf5,Qxf5+,Ke7,Qf6+,Kd7,Qd6+,Kc8', 'Bg4+,Re6,Bxe6#', 'https://lichess.org/training/Gi2zv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GI3CL', 'Rapid', 'AAHLAD-KARTHIK_123', 2128, 'RDL30', 2255, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e5,Nde2,b5,Bb3,b4,Nd5,Nxe4,Be3,Nd7,O-O,a5,Ng3,Nxg3,fxg3,a4,Bc4,Ba6,Qf3,f6,Nc7+,Qxc7,Qxa8+,Bc8,Ba6,Kd8,Rad1', 'Nb6,Qe4,Bxa6', 'https://lichess.org/training/GI3CL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GI3pQ', 'Bullet', 'francisjoel', 1568, 'Rabi_Thapa786', 1570, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,h3,Ngxe5,Nxe5,Nxe5,a3,a5,Nc3,d6,Ne4,Bb6,Bd2,O-O,b4,axb4,axb4,Rxa1,Qxa1,Be6,Bc3,Nxc4,Bxg7,Re8,Bd3,d5,Ng3,Qg5,Bc3,Bxe3,O-O,Bf4,Ne2,Be5,Bxc4,Bxc3,Qxc3,dxc4,Ng3,Bd5,Rd1,c6,b5,Re2,bxc6,Ra2,cxb7,Bxb7,Qxc4,Rd2,Rb1,Qf6,Rxb7', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/GI3pQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gi3Yh', 'Blitz', 'IM hatembenarfa', 2561, 'SnoopyDoggy', 2736, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,a3,b6,Nf3,Bb7,Bb5+,Bc6,Bxc6+,Nxc6,d5,Na5,Bf4,exd5,exd5,Qe7+,Kf1,O-O-O,Qd3,Kb7,g3,c4,Qd4,Qc5,Rd1,Qxd4,Rxd4,Bc5,Rd1,Bxa3,Kg2,f6,Rhe1,Rd7,g4,h6,h4,Rhd8,g5,hxg5,hxg5,Rxd5,Ra1,Bc5,gxf6,gxf6,Re6,Rf5,Bg3,Nc6,Rh1,Rd7,Rh6,a5,Nh4,Rg5,Rhxf6,Nd8,Re8,a4,Nf3,Rgd5,Ne5,a3,Nxd7,Rxd7,Re1,Rd3,Rf3,Nc6,Ra1,Na5,Rxd3,cxd3,Ra2,Nc4,Bf4,Be7,Bc1,Bf6,Bxa3', 'd2,Rxd2,Nxd2', 'https://lichess.org/training/Gi3Yh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gI40Y', 'Blitz', 'IM straybullet', 2462, 'lecitronvert', 2465, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Ne2,d5,a3,Bd6,c5,Be7,b4,b6,Ng3,c6,Bd3,Qc7,f4,Nbd7,O-O,a5,Bd2,Ba6,Qe2,Bxd3,Qxd3,axb4,axb4,b5,Qc2,Ra7,Qb2,Rfa8,Rfb1,Ra6,Rxa6,Rxa6,Ra1,Qa7,Rxa6,Qxa6,Qa2,Nb8,Qxa6,Nxa6,Na2,h5,Kf1,h4,Nh1,Ne4,Ke2,f6,Nf2,Nxf2,Kxf2,g5,fxg5,fxg5,g4,Kf7,h3,Bf6,Ke2,e5,dxe5,Bxe5,e4,Ke6,Bxg5,Bg3,exd5+,Kxd5,Kd3,Be1,Bd2,Bxd2,Kxd2,Ke5,Ke3,Nc7,Nc3,Na6,Na2,Nc7,Nc1,Nd5+,Kd2,Nxb4,Nd3+', 'Nxd3,Kxd3,Kd5', 'https://lichess.org/training/gI40Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GI85K', 'Rapid', 'Free2Play', 2105, 'mgchess17', 2023, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bd3,Be7,c4,O-O,Nc3,c6,Be2,d5,exd5,cxd5,Be3,Nc6,Bf3,Nxd4,Bxd4,dxc4,Qd2,Re8,O-O,Bc5,Rad1,Bxd4,Qxd4,Qxd4,Rxd4,Be6,Rfd1,Rab8,Nb5,a6,Nc7,Rec8,Bxb7,Rxb7,Rd8+,Ne8,Rxc8,Bxc8,Rd8,Bd7', 'Nxe8,Kf8,Nd6+,Ke7,Nxb7', 'https://lichess.org/training/GI85K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GI9XG', 'Rapid', 'Spirit9871', 1728, 'ArJSanin', 1733, 'e4,e5,Bc4,d6,Nf3,Nc6,d4,Na5,Be2,b6,Bd2,Bb7,Bxa5,bxa5,d5,Nf6,Nc3,g6,Bb5+,Nd7,O-O,Bg7,Qd2,O-O,a4,Kh8,Bxd7,Qxd7,Ne2,f5,Ng5,fxe4,Ne6,Rf7,Qxa5,c6,c4,cxd5,cxd5,a6,Nc3,Bf6,Nxe4,Re8,Rac1,Bd8,Qb4,Bxd5,Nxd6,Bxe6,Nxf7+,Qxf7,Rfd1,Bf6,Rc6,h6,Qb6,Kh7,Rdd6,Bh4,Rc7', 'Bxf2+,Qxf2,Qxc7', 'https://lichess.org/training/GI9XG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gIA8N', 'Rapid', 'hover', 1882, 'dadgari2211', 1893, 'd4,e6,c4,d5,e3,c5,a3,Qb6,Nf3,Nc6,Nc3,Nge7,Be2,cxd4,exd4,Nf5,c5,Qd8,Bb5,a6,Ba4,b5,cxb6,Qxb6,Bxc6+,Qxc6,Ne5,Qb6,Qa4+,Ke7,Bg5+,f6,Nc6+,Kf7,Be3,Nxe3,fxe3,Bd7', 'Ne5+,fxe5,Qxd7+', 'https://lichess.org/training/gIA8N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GIby8', 'Blitz', 'celomelo123', 1588, 'G0blinS', 1591, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,Nf6,Bg5,Be7,Re1,O-O,Nbd2,d5,e5,Nd7,Bxe7,Qxe7,Qg4,f5,exf6,Qxf6,c3,Nc5,Re3,Rae8,Rae1,Rxe3,Rxe3,Na4,Qe6+,Qxe6,Rxe6,Nxb2,Ne5,Bb5,Re7,Rc8,Ndf3,Be2,Nd4,Bc4,Ne6,d4', 'Rxg7+,Kh8,Nf7#', 'https://lichess.org/training/GIby8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GIDT0', 'Classical', 'NagyBo', 1822, 'VladanUzanovic', 1808, 'd4,d5,Bf4,Bf5,e3,e6,Bd3,Bd6,Bxf5,exf5,Be5,Nc6', 'Bxg7,Qg5,Bxh8', 'https://lichess.org/training/GIDT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GieM2', 'Rapid', 'sai_73', 2049, 'Behemoth_67', 2140, 'e4,g6,d4,Bg7,Be3,d6,Bd3,c5,c3,cxd4,cxd4,Nc6,Ne2,Qb6,Qd2,Bd7,Bc4,Nf6,f3,d5,exd5,Na5,Bd3,Nxd5,Bf2,Nc6,Bc4,Be6,Nbc3,Rd8,Na4,Qb4,Qxb4,Ndxb4,Bxe6,Nd3+,Kf1,fxe6,Be3,Nxd4,Nxd4,Bxd4,Ke2,Bxe3,Kxe3,Ne5,Rhd1,Kf7,Rac1,Rxd1,Rxd1,Rc8,Ke2,Rc2+,Rd2,Rxd2+,Kxd2,b6,b3,Nc6,Nc3,e5,Ke3,Ke6,Nb5,Kd7,Ke4,a6,Nc3,Ke6,Nd5,b5,Nc7+,Kd6,Nxa6,e6,g3,h5,h4,Nd4,Nb4,Ne2,g4,Nc3+,Kd3,Nd5,Nxd5,exd5,a3,d4,gxh5,gxh5,Ke4,Kc5,a4,Kb4,axb5,Kxb5,f4,exf4', 'Kxd4,f3,Ke3', 'https://lichess.org/training/GieM2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GIfFE', 'Rapid', 'gkolpuc', 1853, 'unlz', 1782, 'e4,e5,Bc4,Nf6,Nf3,h6,Nxe5,d5,exd5,Nxd5,O-O,Be6,Re1,Be7,d4,Nd7,Qf3,Nxe5,dxe5,Qd7,Rd1,O-O-O,a4,Qc6,b3,Bg5,Bb2,Nf4,Rxd8+,Rxd8,Qxc6', 'Rd1+,Bf1,Ne2+,Kh1,Rxf1#', 'https://lichess.org/training/GIfFE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GiFHY', 'Rapid', 'kiasar', 1665, 'LittleWhiteRabbit', 1729, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,h3,O-O,a3,a6,Nc3,d6,Bg5,h6,Be3,Bxe3,fxe3,Ne7,Qe2,Nh5,Qf2,Ng6,O-O-O,Be6,g4,Bxc4,dxc4,Nf6,Nh4,Nxh4,Qxh4,Nd7,Qg3,Nc5,h4,b5,g5,h5,Qf3,g6,Nd5,b4,Nxb4,f6,gxf6,Rxf6,Qg2,Qd7,Nd5,Re6,Qg5,Nxe4,Qg2,Nc5,Rdf1,Rf8,Rxf8+,Kxf8,Rf1+,Kg7,Rg1,c6,Nc3,Qe7,Qxc6,Qxh4,Rd1,Qe7,b4,Nd7,Nd5,Qf7,Qxa6,Nf6,Nxf6,Rxf6,Rxd6,Rxd6,Qxd6,Qf1+,Kb2,Qf6,Qc7+,Kh6,Kb3,h4,e4,Qf3+,Ka4,Qxe4,c5,Qxc2+,Kb5,Qe2+,Kb6,h3,Qc8,h2,Qh3+,Qh5,Qe3+,g5,Qxe5,h1=Q,Qh8+,Kg6,Qg8+,Kf6,Qd8+,Kg7,Qd4+,Kg8,Qd8+,Kh7,Qe7+,Kh6,Qf8+,Kg6,Qg8+,Kf5,Qf8+,Kg4,Qc8+,Kh4,c6,Qg1+,Kb7,Qf7+,c7,Qg2+,Kb8,Qc6,Qh8+,Kg3,Qe5+,Kf3,c8=Q', 'Qb6+,Qb7+,Qfxb7#', 'https://lichess.org/training/GiFHY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gifpn', 'Classical', 'annunakiz', 1933, 'Vitalii1975', 1863, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,Nxe5,Qe7,d4,c5,c3,d6,Nc6,Qxe4+,Qe2,Qxe2+,Kxe2,Bb7,d5,c4,Re1,Kd7,Nd2,Re8+,Kf1,Rxe1+,Kxe1,Bxc6,dxc6+,Kxc6,Nxc4,Nf6,Na5+,Kb5,b4,c5,Be3,cxb4,a4+,Kxa5,cxb4+,Kxb4,Bd2+,Kc5,Rc1+,Kd5,Rc8,Ke6,Ra8,Nd7,Bc3,Nc5,a5,h5,Bb4,Ke7,Bxc5,dxc5,Rxa6,Rh6', 'Rxh6,gxh6,a6', 'https://lichess.org/training/Gifpn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('giGbD', 'Rapid', 'mo9090', 1889, 'Belavo', 1973, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,g6,Bc4,Bg7,Be3,Ng4,O-O,Nxe3,fxe3,O-O,Qf3,Qe8,Nd5,Qd8,Nb5,Nc6,c3,Ne5,Qe2,Bg4,Rf3,Bxf3,gxf3,Nxc4,Qxc4,Rc8', 'Qxc8,Qxc8,Nxe7+,Kh8,Nxc8', 'https://lichess.org/training/giGbD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gihdj', 'Blitz', 'noobor', 1585, 'cmh_christopher7', 1564, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,c6,Bd2,Qc7,Bc4,Bg4,h3,Bh5,g4,Bg6,Qe2,Nbd7,O-O-O,e6,Ne5,Nxe5,dxe5,Nd7,f4,h5,g5,b5,Bxb5,cxb5,Qxb5,Rb8,Qa4,Bb4,Nb5,Bxd2+,Rxd2,Rxb5,Qxb5,O-O,Qxd7,Qa5,a3,Qc5,Qd6,Qe3,Rd1,Rc8,c3,Rxc3+,bxc3', 'Qxc3+,Rc2,Qxc2#', 'https://lichess.org/training/Gihdj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gIHk6', 'Rapid', 'Mir99', 2086, 'joe403', 1982, 'e3,Nf6,d4,d5,Ne2,g6,Nf4,Bg7,Be2,O-O,O-O,c6,c4,e6,Nc3,a6,cxd5,exd5,Kh1,Re8,h3,Bf5,f3,Nbd7,g4,Be6,Ng2,h6,f4,Nf8,Bd3,Bd7,f5,g5,h4,b5,hxg5,hxg5,Qf3,a5,e4,b4,e5,bxc3,exf6,cxb2,Bxb2,Bxf6,Rae1,Qc7,Qf2,Kg7,Ba3,Ng6,fxg6', 'Rh8+,Nh4,Rxh4+,Qxh4,gxh4', 'https://lichess.org/training/gIHk6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GiHSY', 'Blitz', 'NM TheLlamaLord', 2318, 'KurdoH', 2483, 'd4,d6,c4,g6,Nf3,Bg7,Nc3,Nc6,d5,Nb8,e4,Nd7,Be2,e5,O-O,h6,Ne1,g5,Be3,Ne7,b4,O-O,c5,f5,cxd6,cxd6,f3,Ng6,Rc1,fxe4,fxe4,Nf4,g3,Nxe2+,Qxe2,Nf6,Nd3,Bg4,Qd2,Bh3,Rf2,Ng4,Rxf8+,Qxf8,Nf2,Nxf2,Qxf2,Qe7,Nb5,Rf8,Qe2,a6,Nc7,Qf6,a4,Kh7,b5,axb5,axb5,Rf7,b6,Kg6,Ne8,Qd8,Nc7,h5,Ne6,Qf6,Nxg5,Bg4,Qf2', 'Qxf2+,Bxf2,Kxg5', 'https://lichess.org/training/GiHSY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GIj8d', 'Rapid', 'Hellyen_Bornbirrg', 1632, 'Vall777', 1701, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,e6,Be3,Bd6,O-O-O,Nc6,Ne4,Nxe4,Qxe4,Qf6,Nf3,h6,Bb5,Bd7,d5,Ne7,Bxd7+,Kxd7,Bd4,Qf4+,Qxf4,Bxf4+,Kb1,exd5,Bxg7,Rhg8,Bf6,Rxg2,Bxe7,Kxe7,Rxd5,Rd8', 'Re1+,Kf6,Rxd8', 'https://lichess.org/training/GIj8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gIjIv', 'Rapid', 'Jack797', 1936, 'deyan70', 1946, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,d3,O-O,h3,Bb7,Nc3,d6,a4,Nb4,Bg5,Nd7,Bxe7,Qxe7,axb5,axb5,Nxb5,c6,Nc3,Rxa1,Qxa1,Ra8,Qd1,d5,exd5,cxd5,Re1,Kh8,Qe2,f6,Nd4,Nc5,Nf5,Qd7,Ng3,Nxb3,cxb3,Ba6,Rd1,e4,Qe3,Nxd3,Rd2,d4,Qxe4,dxc3', 'Qxa8+,Qc8,Qxc8+', 'https://lichess.org/training/gIjIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gilHJ', 'Classical', 'Suricata9', 2063, 'VoxDeLezo', 2015, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qe2,Nbd7,f4,Qc7,O-O-O,Be7,Kb1,O-O,g4,b5,Bg2,Bb7,a3,Rfc8,Rhe1,Bf8,Bxf6,Nxf6,e5,Bxg2,Qxg2,dxe5,fxe5,Ne8,Ne4,Qxe5,g5,Qc7,Rg1,Rab8,Nf6+,Nxf6,gxf6,g6,Rdf1,a5,Qh3,Qe5,Nf3,Qxf6', 'Ng5,Qxg5,Rxg5', 'https://lichess.org/training/gilHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GILMy', 'Rapid', 'rkk2', 1682, 'ccc_-_13cc', 1630, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,O-O,O-O,Bg5,h6,Bxf6,Qxf6,c3,d6,Nbd2,a6,b4,Ba7,a4,b5,Bd5,Bd7,axb5,axb5,Ra6', 'Bxf2+,Rxf2,Rxa6', 'https://lichess.org/training/GILMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GiLp8', 'Blitz', 'GM Morphy123', 2301, 'HandKnit', 2343, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,Qe7,O-O,O-O,Bg5,d6,Qf3,Bxc3,bxc3,Qe5,Bf4,Qc5,h3,Be6,Be3,Qxc3,e5,Qxe5,Rae1,Qd5,Qg3,Bf5,Bh6,Bg6,Bc1,Qxa2,h4,Qd5,Bg5,Kh8,Bxf6,gxf6,Qf4,Kg7,g4,h5,g5,fxg5,hxg5,a5', 'Qf6+,Kg8,Bxg6', 'https://lichess.org/training/GiLp8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GIM6h', 'Rapid', 'Iambeginnerz', 1654, 'mahyar0001', 1648, 'c4,e5,Nc3,Nc6,g3,b6,Bg2,Bb7,d3,Nf6,e4,Bb4,a3,Bc5,Nf3,Nd4,O-O,c6,Nxe5,d6,Nf3,d5,exd5,cxd5,Re1+,Ne6,Bg5,d4,Nd5,Be7,Nxe7,Qxe7,Nxd4,O-O,Bxf6,Qxf6,Nxe6,fxe6,Bxb7,Qxf2+,Kh1,Rab8,Bg2,Qxb2,Rxe6,Rf2,Bd5', 'Rxh2+,Kg1,Qf2#', 'https://lichess.org/training/GIM6h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gImEc', 'Rapid', 'amr_kinawy', 1829, 'gmquen', 1813, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Nc6,O-O,Be6,c3,Nf6,Ne5,Qc7,Nxc6,bxc6,Be2,Bd6,g3,Bh3,Re1,O-O,Bf3,Rfe8,d4,cxd4,cxd4,Rad8,Be3,Ne4,Nc3,Qd7,Ne2,Qf5,Nf4,Bxf4,Bxf4,Ng5,Bg2,Bg4,Qa4,Nh3+,Kf1,Nxf4,gxf4,Qxf4,Qxc6,Re6,Rxe6,Bxe6,Re1,Qxd4,Qc7,Qd3+,Kg1,Rc8', 'Qxc8+,Bxc8,Re8#', 'https://lichess.org/training/gImEc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('giNQU', 'Rapid', 'Trrak55', 2205, 'IngBjo', 2072, 'Nf3,b6,d4,Bb7,Bf4,e6,Nbd2,d5,e3,c5,c3,Nc6,Bd3,Nf6,Qe2,h6,Rd1,Nh5,Be5,Nxe5,dxe5,g6,g4,Ng7,h4,h5,Bb5+,Ke7,g5,Nf5,e4,dxe4,Nxe4,Qc7,Rd7+,Qxd7,Bxd7,Kxd7,Nf6+,Kc7,O-O,Rd8,Rd1,Be7,Kh2,Bxf3,Qxf3,Nxh4,Qe2,Rxd1,Qxd1,Rd8,Qa4,Nf3+,Kg3,Bxf6,Qxa7+,Kc6,gxf6,Nxe5,Kf4,Nd3+,Kg5,Rd7,Qa8+,Kc7,f4,Nxb2,a4,Nd3,a5,bxa5,Qxa5+,Kc6,Qa4+,Kc7,c4,Nb4,Qa5+,Kc6,Qb5+,Kd6,Qb6+,Nc6,Kh6,Ra7,Kg7,h4,Qb3,Rd7,Kh6,Nd4,Qb6+,Nc6,Kg5,h3,Qb3,h2,Qh3,Nd4,Kg4,Nf5,Qxh2,Ne3+,Kg5,Kc6,Qh1+,Kc7,Qa8,Nxc4,Qa7+,Kc6', 'Qa4+,Kc7,Qxc4', 'https://lichess.org/training/giNQU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GIOrP', 'Blitz', 'barensis', 1658, 'cp2050', 1813, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Nf6,d3,Be7,c3,O-O,Be3,a6,h3,b5,Bb3,c5,a3,a5,Bc2,a4,Nbd2,Be6,Nh2,Nh7,f4,exf4,Bxf4,Nc6,Qf3,Ne5,Bxe5,dxe5,Ng4,Ng5,Qe2,Bd7,Rf2,Bd6,Raf1,Be6,Bd1,Qc8,Qe3,c4,Be2,Bc5,d4,exd4,cxd4,Ba7,Nf3,Nxf3+,Bxf3,Qd8,Rd1,Bxg4,Bxg4,Rb8,Rfd2,b4,Qg3,Qb6,Kh1,Rbd8,d5,b3,d6,Bb8,e5,Rfe8,Rd5,Qb7,d7,Re7,Qh4,Kf8,e6,Bc7,exf7,Rxf7,Re1,Qxd5', 'Qxd8+,Bxd8,Re8#', 'https://lichess.org/training/GIOrP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gIpUP', 'Rapid', 'sstefoss', 1903, 'WinAgain', 1902, 'e4,e5,Nf3,Nf6,Bc4,Bc5,Nxe5,O-O,d4,Bb6,c3,Nxe4,Qf3,d5,Bb3,Qf6,Bxd5,Qxf3,Nxf3,Nf6,Bb3,Bg4,Ne5,Bf5,O-O,c5,Be3,cxd4,Bxd4,Bxd4,cxd4,Na6,a3,Rad8,Rd1,Nc7,Nc3,a6,d5,b5,Rd2,a5,Nc6,Ra8,Ne7+,Kh8,Nxf5,a4,Ba2,g6,Nh6,Kg7,d6,Ne6,Bxe6,fxe6,Nxb5,Kxh6,Re1,Rab8,Nc7,Rfd8,Nxe6,Rd7,Nc5,Rdd8,Nxa4,Nd7,Nc3,Rb6,Ne4,Ne5,f4,Nc4,Rc2,Nxd6,Nxd6,Rdxd6,g4,Rb3,g5+,Kg7,Re7+,Kf8,Rxh7,Kg8,Ra7,Rb8,Rcc7,Rd1+,Kf2,Rxb2+,Kg3,Rg1+,Kf3,Rf1+,Ke4,Re1+,Kd5,Rd1+,Ke6', 'Re2+,Kf6,Rd6#', 'https://lichess.org/training/gIpUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GipxL', 'Rapid', 'Serial__Chiller', 1835, 'dulepvc19', 1900, 'e4,e5,Nf3,Qf6,d4,exd4,Bg5,Qe6,Qxd4,Nc6,Qa4,Be7,Nc3,Bb4,Bd2,d5,Nxd5', 'Qxe4+,Kd1,Qxd5', 'https://lichess.org/training/GipxL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GIqgY', 'Rapid', 'yomomma', 1608, 'mmokodil', 1642, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Qf3,Bg4,Qb3,Qc8,h3,Bh5,Bb5+,Nbd7,Bg5,Bg6,Bxf6,exf6,O-O,Be7,Nd2,O-O,Rad1,Nc5,Qf3,a6,Bc4,b5,Bb3,Nxb3,axb3,Qb7,Rfe1,Rfc8,c3,Bf8,Nf5,Rc5,b4,Re5,g4,Rae8,h4,d5,h5,dxe4,Nxe4,Rxe4,Rxe4,Qxe4,Qxe4,Rxe4,hxg6,Rxg4+,Kh2,fxg6,Ne3,Re4,Rd8,h5,Ra8,f5,Rxa6,Bd6+,Rxd6,f4,Nd5,f3,Kg3,Re2,Kxf3,Rxb2,Rb6,h4,Rxb5,g5,Kg4,Rxf2,Kxg5,h3,Ra5', 'h2,Ra1,Rg2+,Kf4,Rg1,Rxg1,hxg1=Q', 'https://lichess.org/training/GIqgY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('giqJf', 'Blitz', 'MagBigGM', 2602, 'FM Kaldas90', 2640, 'e4,g6,d4,Bg7,c3,d6,Bd3,Nf6,Ne2,O-O,f3,c5,Be3,b6,Nd2,Nc6,a3,a5,O-O,Ba6,Bxa6,Rxa6,d5,Ne5,h3,b5,f4,Nd3,Qc2,c4,a4,Qb8,b3,bxa4,Rxa4,Nc5,Bxc5,cxb3,Nxb3,dxc5,Nxa5,Qb5,c4,Qd7,e5,Ne8,Nc6,Rxa4,Qxa4,f5,Rb1,g5,Qb5,Nc7,Qxc5,gxf4,Nxe7+,Kh8,Nxf4,Na6,Qd6,Qa7+,Kh1,Nc5,e6,Ne4,Qd7,Qf2,Neg6+,hxg6,Nxg6+,Kg8,Nxf8,Ng3+,Kh2,Nf1+,Rxf1', 'Be5+,Kh1,Qxf1#', 'https://lichess.org/training/giqJf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gIrDT', 'Blitz', 'Sasha_Kuprii', 1637, 'JOCHESSMI', 1705, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e5,Nf3,Nf6,Nxe5,Nxe4,Nxe4,Qa5+,Nc3,Qxe5+,Be3,Be7,Bc4,O-O,O-O,Nc6,Re1,Qf6,Qd2,Bb4,Nd5,Qh4,Nxb4,Qxc4,Nxc6,bxc6,Bd4,Kh8,Bc3,d5,b3,Qg4,Rad1,f6,Qe3,Bf5,Rd4,Qg6,Qe7,Rae8,Qd6,Rg8,Rxe8,Rxe8,Rb4,Be6,h3,Bxh3,g3,h6,Rb8,Rxb8,Qxb8+,Kh7,Qxa7,Qd3,Bxf6', 'Qf1+,Kh2,Qg2#', 'https://lichess.org/training/gIrDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gisJd', 'Rapid', 'ARIOSCRUSROGUS', 2121, 'hakimb10', 2116, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bg5,O-O,Be2,Nxe4,Bxe7,Qxe7,Nxe4,Qxe4,O-O,Nc6,Nxc6,Qxc6,Bf3,Qb6,b3,Bf5,Qd2,a5,Qd5,Bxc2,Qxb7,Qxb7,Bxb7,Ra7,Bf3,a4,bxa4,Rxa4,Rfc1,Bf5,Rxc7,Rd8,h3,d5,Rd1,d4,Rd2,g6,Bd1,Ra3,Bb3,d3,Rxf7', 'Rxb3,axb3,Kxf7', 'https://lichess.org/training/gisJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GISSi', 'Rapid', 'frankmoles', 1751, 'SVTSLV', 1761, 'Nf3,c5,g3,Nc6,Bg2,e6,O-O,d5,d3,Nf6,Nbd2,Bd6,Re1,e5,e4,d4,Nc4,Bc7,a4,O-O,b3,Na5,Na3,Re8,Nb5,h6,Nxc7,Qxc7,Nh4,Bg4,f3,Be6,Nf5,Qd7,Qd2,Bxf5,exf5,Qxf5,Qxa5,b6,Qd2,Nd5,Qf2,Nb4,f4,Rad8,Bd2,Nxc2,Rxe5,Rxe5,fxe5', 'Qxf2+,Kxf2,Nxa1', 'https://lichess.org/training/GISSi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('giTAn', 'Rapid', 'victex', 1912, 'benjmigz1511', 1712, 'e4,e6,d4,d5,exd5,Qxd5,b3,Nc6,Nf3,Nf6,Nc3,Qd8,Bb2,a6,Be2,Be7,O-O,O-O,Re1,h6,Bf1,b5,a4,b4,Ne4,Bb7,a5,Qd5,Bc4,Qd8,Ne5,Nxe4,Rxe4,Nxa5,Rg4,Nxc4,bxc4,Bg5,h4,Bxh4,Qd2,Bg5,Qxb4,Rb8,f4,Bf3,Qc3,Bxg4,fxg5,Qxg5,Nd7,Rxb2,Nxf8,Bh3,Qxh3,Kxf8', 'Qa3+,Kg8,Qxb2', 'https://lichess.org/training/giTAn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gITLm', 'Rapid', 'EnsMsgLu', 1630, 'Vivekgera88', 1665, 'e4,e5,Nf3,Nc6,Bb5,Qf6,c3,Bc5,d4,exd4,Bg5,Qg6,Bxc6,dxc6,O-O,dxc3,Nxc3,Ne7,e5,h6,Bh4,O-O,Re1,Nf5,Ne4,Nxh4', 'Nxh4,Qe6,Nxc5', 'https://lichess.org/training/gITLm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('giu4T', 'Rapid', 'Oncesaglik7', 1617, 'EAazaD', 1620, 'e4,e6,Nf3,a6,d4,h6,Nc3,d6,Bd3,Nd7,Qe2,b5,d5,exd5,exd5+,Be7,O-O,Ngf6,Re1,Bb7,Nh4,Bxd5,Nxd5,Nxd5,Be4,c6,Nf5,O-O,Bxh6,gxh6,Qg4+,Bg5,Nxh6+,Kh8,Nf5,N7f6,Qh3+,Kg8,Nh6+,Kg7,Nf5+,Kg6,Nxd6+,Kg7,Nf5+,Kg6,Ne7+,Kg7,Nxc6,Qd6,Bxd5,Nxd5,Ne5,Rh8,Qf5,Bf6', 'Qg4+,Kf8,Nd7+,Qxd7,Qxd7', 'https://lichess.org/training/giu4T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('giUp6', 'Rapid', 'Stumakokha', 1845, 'DmitArm', 1820, 'd4,g6,e4,Bg7,Nf3,d6,Bd3,e5,c3,exd4,cxd4,Nc6,Bc2,Bg4,d5,Bxf3,Qxf3,Nd4,Qd3,Nxc2+,Qxc2,Ne7,O-O,O-O,Nc3,a6,Bg5,f6,Be3,f5,Rad1,fxe4,Qxe4,Qd7,Bg5,Rae8,Rfe1,Nf5,Qd3,Rxe1+,Rxe1,Re8,Rxe8+,Qxe8,g3,Nd4,Be3,Nf3+,Kh1,Ne1,Qd1,Bxc3,bxc3,Qe4+,Kg1', 'Qg2#', 'https://lichess.org/training/giUp6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('giUtJ', 'Classical', 'RU_722', 1823, 'versellersky', 1779, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,Bb5,Qb6,Ba4,Ne7,O-O,Ng6,d4,Bd7,Nbd2,cxd4,cxd4,Be7,Bxc6,Bxc6,Nb3,O-O,Bd2,f6,Be3,Bb5,Re1,Bb4,Bd2,Bxd2,Qxd2,fxe5,Nxe5,Nxe5,Rxe5,Rf6,Nc5,Raf8,Rae1,Rxf2,Qxf2,Rxf2,Kxf2,Be8,R1e2,Bf7,g4,Qb4,Nb3,a5,Ke3,b6,Rc2,Qe1+,Re2,Qg1+,Kf3,a4,Nd2,Qxd4,Nf1,h5,gxh5,Qh4,Ng3,Qc4,b3,axb3,axb3,Qxb3+,R5e3,Qd1,Kf4,Qc1,Re1,Qc4+,Kf3,Qh4,R1e2,Kf8,Ra3,Ke7', 'Nf5+,Kf6,Nxh4', 'https://lichess.org/training/giUtJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GIvQN', 'Rapid', 'BubbaBones', 1970, 'vshevchuk', 1858, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,Nc3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Bg5,Be7,O-O-O,O-O,e5,Bxf3,gxf3,Ne8,h4,Bxg5+,hxg5,Qxg5+,f4,Qg6,Nd5,Qe6,f5,Qxe5,Qxe5,dxe5,Ne7+,Kh8', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/GIvQN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('giw5d', 'Rapid', 'Stockmammal11', 1748, 'vil_khalilov', 1819, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Be2,Nc6,O-O,Qf6,Bd3,d5,c4,Nd6,Re1+,Be7,Bg5,Qxg5,Nxg5,O-O,Bxh7+,Kh8,Qh5,Bxg5,Bg6+,Bh6,Bd3,Nxd4,g4,Nf3+,Kh1,Nxe1,g5,Nxd3,gxh6,g6,Qf3,Ne5', 'Qf6+,Kh7,Qg7#', 'https://lichess.org/training/giw5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gixDQ', 'Rapid', 'Noerk', 1834, 'Marcorengifo', 1846, 'd4,c6,Bg5,h6,Bh4,d5,Nf3,Nd7,Nbd2,Ngf6,e3,e6,c4,Bb4,Bd3,Nf8,O-O,Ng6,a3,Ba5,b4,Bc7,Bxg6,fxg6,Qc2,Kf7,Ne5+,Bxe5,dxe5,g5,exf6,gxh4,fxg7,Kxg7,Qc3+,Kf7,h3,Qg8,Nf3,Bd7,Ne5+,Ke7,f3,Qg3,Rf2,Rag8,Kh1,Rg5,Raa2,Rxe5,f4,Rxe3,Qxh8', 'Re1+,Rf1,Rxf1#', 'https://lichess.org/training/gixDQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gIxzC', 'Classical', 'Nike95', 2040, 'NithishBharadhwaj', 1961, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,dxc5,Bxc5,Nc3,d4,Ne4,Bb6,Bc4,Qe7,O-O,Be6,Bxe6,fxe6,Re1,Nf6,Neg5,O-O,Nxe6,Re8,Nc7', 'Qxc7,Rxe8+,Nxe8', 'https://lichess.org/training/gIxzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('giytP', 'Blitz', 'Keangiboraentoa', 1599, 'Jwine', 1605, 'd4,d5,Nf3,Bf5,e3,e6,Bd3,Bg6,c3,Bd6,Qc2,Nf6,Nbd2,Nbd7,e4,dxe4,Nxe4,Nxe4,Bxe4,c6,Bg5,Nf6,O-O-O,Be7,Ne5,Bxe4,Qb3,Bxg2,Rhg1,Bd5,c4,Be4,f3,Bg6,Qxb7,O-O,Nxc6,Qe8,Nxe7+,Kh8,Nxg6+,fxg6,h4,Qa4,Kb1,Rfb8,Qf7,Qxc4,Bxf6,gxf6,Qxf6+,Kg8,h5', 'Rxb2+,Kxb2,Rb8+,Ka1,Qc3#', 'https://lichess.org/training/giytP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GIYTt', 'Blitz', 'duremar1900', 1824, 'x008866', 1921, 'b3,d6,Bb2,e5,g3,Nc6,Bg2,g6,d3,Bg7,Nd2,Nge7,e4,O-O,Ne2,f5,O-O,f4,f3,fxg3,hxg3,Kh8,c4,Ng8,Kf2,Nf6,Rh1,Ng4+,Ke1,Ne3,Qc1,Nxg2+,Kf2,Qg5,Kxg2,Bh6,Bc3,Nd4,Bxd4,exd4,Nf1,Qf6,Qxh6', 'Qxf3+,Kg1,Qf2#', 'https://lichess.org/training/GIYTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gIzT5', 'Rapid', 'jrjarvis', 1637, 'EmilStenstrom', 1805, 'd4,e6,e4,Nc6,c3,d5,e5,f6,Bd3,g6,Nf3,Bd7,O-O,Bg7,Re1,Qe7,Bb5,O-O-O,Qa4,a6,Bxc6,Bxc6,Qa5,Bb5,b3,c5,dxc5,Qxc5,Ba3,Qc7,Qxc7+,Kxc7,Bd6+,Kb6,Nd4,Bd7,c4,Bf8,cxd5,exd5,Nc3,Bxd6,exd6,Bc6,Nxc6,Kxc6,Rac1,Kxd6,Red1,Ne7,Ne4+,Ke5,Nc3,Kf5,Re1,Rhe8,Ne2,h5', 'Nd4+,Kg5,Ne6+', 'https://lichess.org/training/gIzT5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gj16D', 'Rapid', 'kaaaaakakaka', 1643, 'Bigchess123', 1628, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,c6,cxd5,exd5,Nf3,Bg4,Bd3,h6,Bh4,g5,Bg3,Nbd7,O-O,Nb6,Rc1,Nh5,Bb1,Nxg3,hxg3,h5,Qd3,f5,Nh2,h4,Nxg4,fxg4,Qg6+,Kd7,Qf5+,Kc7,Qxg4,Qd6,Rfd1,Raf8,e4,hxg3', 'Nb5+,Kb8,Nxd6', 'https://lichess.org/training/gj16D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJ3w0', 'Rapid', 'Cow1337killr', 1819, 'nsnu', 1884, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Be7,e3,O-O,Bd3,a6,b3,Nbd7,O-O,dxc4,bxc4,c5,d5,exd5,cxd5,Nb6,e4,Bg4,Bf4,c4,Bc2,Bb4,Qd4,Rc8,Ne5,Bc5,Qd2,Bh5,a4,Bb4,a5,Nbd7,Nxd7,Qxd7,e5,Bxc3,Qxc3,Nxd5,Qg3,Nxf4,Qxf4,Bg6,Ba4,Qf5,Qg3,Rc5,f4,c3,Rac1,c2,Rf2,Rfc8,Rd2,h6,Bd7,Qe4,Bxc8,Rxc8,Qf2,Bf5,h3,Qa4,g4,Be4,Qe3,Qb4,Rd4,Qb2,Rxe4,Rd8,Qe1,Qxc1', 'Qxc1,Rd1+,Re1,Rxc1,Rxc1', 'https://lichess.org/training/gJ3w0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJ4LL', 'Blitz', 'IM IvanMarinkovic', 2510, 'Davidateca', 1927, 'e4,c6,Nc3,d5,Nf3,e6,g3,Nf6,e5,Ne4,Bg2,Nxc3,dxc3,Nd7,O-O,c5,Qe2,b6,c4,Bb7,cxd5,Bxd5,c4,Bc6,Rd1,Qc7,Bf4,Be7,Rd3,O-O,Rad1,Rfd8,h4,Nf8,Ng5,Rxd3,Rxd3,Bxg2,Kxg2,Bxg5,hxg5,Rd8,Qd2,Rxd3,Qxd3,Qd7,Qxd7,Nxd7,Kf3,Kf8,Ke4,Ke7,Bd2,g6,f4,Kd8,g4,Ke7,Kd3,Kd8,a3,Kc7,b4,a6,Kc3,Kc6,Kb3,b5,cxb5+,axb5,Be3', 'c4+,Kc3,Kd5', 'https://lichess.org/training/GJ4LL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gj4wP', 'Rapid', 'Rpm12390', 1779, 'ShuckMyQueen', 1827, 'd4,c5,d5,Nf6,c4,e6,Nc3,exd5,cxd5,Qa5,Bd2,c4,e4,d6,Bxc4,Be7,f4,O-O,Nf3,Bg4,O-O,Nbd7,Qe1', 'Qc5+,Be3,Qxc4', 'https://lichess.org/training/gj4wP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJ540', 'Blitz', 'ahaghighi', 1714, 'Basten79', 1738, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Be3,Nf6,Nd2,Be7,Bd3,O-O,Bc2,Be6,b4,Qd7,O-O,Rad8,Nf3,Ng4,Qd2,Nxe3,Qxe3,Bc4,Rfd1,f5,Bb3,Bxb3,axb3,Qe6,Rxa7,Qxb3,Qe2,Bf6,exf5,Rfe8,Rc7,Qxc3,b5,Qa5,Rb7,c5,Qc4+,Kh8,Rb1,e4,Ne1,Rb8,Rxb8,Rxb8,Nc2,Qd2,Ne3,Bd4,Rd1,Qb2,Nd5,Rxb5,Ne7,Qxf2+,Kh1,Rb8,Nc6,Rg8,Ne7,Rb8,Rf1,h5,h3,Qg3,Ng6+,Kh7,Qe2,Rb2', 'Qxh5+,Kg8,Qh8+,Kf7,Qf8#', 'https://lichess.org/training/GJ540');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJ5TJ', 'Rapid', 'R1TCH1E', 1652, 'leoloren', 1759, 'd4,d5,c4,c6,Nc3,e6,e3,Nf6,Bd3,Be7,Qc2,h6,Nf3,Nbd7,cxd5,cxd5,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bd3,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Ne5,a5,O-O,a4,f4,g6,Bc2,Qa5,Qd3,Kg7,Nxg6,fxg6', 'Qxg6+,Kh8,Qxh6+', 'https://lichess.org/training/gJ5TJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gj7cV', 'Rapid', 'Benteng_93', 1728, 'AlamsyahWK', 1725, 'e4,e5,Nf3,d6,Bc4,h6,c3,Bg4,Bxf7+,Kxf7,Qb3+,Ke8,Qxb7,Nd7,h3,Bxf3,gxf3,Ngf6,Qc6,Be7,Na3,a6,Nc4,Kf8,Ne3,Nc5,d4,exd4,cxd4,Nd3+,Kd2,Nxc1,Raxc1,Ne8,Rhg1,Bf6,Nf5,Bg5+,Ne3,Bxe3+,Kxe3,Rb8,Qc3,Qh4,d5,Qxh3,Rg6,Qd7,Rh1,Rg8,Rh5,Qf7', 'Rf5,Qxf5,exf5', 'https://lichess.org/training/Gj7cV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJAtZ', 'Rapid', 'zmiev', 1688, 'Max49', 1670, 'd4,f5,c4,c6,d5,d6,Nf3,h6,Nc3,Nf6,e3,a6,Bd3,e6,dxe6,Bxe6,b3,Be7,Qc2,Qc8,Nh4,O-O,Bxf5,Bxf5,Qxf5,Nbd7,Ng6,Rf7,Qe6,Qd8,Nxe7+,Qxe7,Qxe7,Rxe7,Bb2,Rd8,O-O-O,Nc5,Ba3,Nce4,Nxe4,Nxe4,Rhf1,Rf7,f3,Nc3,Rxd6,Rxd6,Bxd6,Rd7,Be5,Nxa2+,Kc2,Nb4+,Kc3,c5,e4,Rd3+,Kb2,Rd2+,Kc3,Rxg2,Rd1,Rg5,f4,Rg2,Rd7,Na2+,Kd3,Nc1+,Kc3,Ne2+,Kd3,b5,Bxg7,Nxf4+,Ke3,Rxg7,Rxg7+', 'Kxg7,Kxf4,bxc4', 'https://lichess.org/training/GJAtZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gjAy9', 'Blitz', 'goodnap', 1604, 'SuddenDeath666', 1548, 'e4,e6,d4,c5,c3,cxd4,cxd4,Qa5+,Nc3,Nf6,f3,Be7,Nh3,O-O,Nf4,e5,dxe5,Qxe5,Bd3,Nc6,O-O,Bc5+,Kh1,Nh5,Nfd5', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/gjAy9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJcId', 'Rapid', 'mpuzzles', 1960, 'wiggerler99', 2112, 'e4,e6,d4,d5,e5,c5,c3,Bd7,Nf3,Nc6,Bd3,Qb6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nc3,Qxe5,Re1,Qb8,Nxd5,Bc6,Bf4,Bd6,Bxd6,Qxd6,Bc4,Rd8,Ne3,Qc5,Qg4,Nf6', 'Qxg7,Rg8,Qxf6', 'https://lichess.org/training/GJcId');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJcjh', 'Classical', 'atharsaleem', 1975, 'elev8', 1959, 'd4,d5,c4,c6,Nf3,e6,e3,Nf6,Nc3,Nbd7,Bd3,dxc4,Bxc4,b5,Be2,b4,Na4,c5,dxc5,Nxc5,Qxd8+,Kxd8,Nxc5,Bxc5,Ne5,Ke7,Bf3,Nd5,Bxd5,exd5,O-O,Bb7,a3,Rhd8,axb4,Bxb4,Nd3,Bd6,Bd2,Bc6,Rfc1,Bb5,Nb4,Bxb4,Bxb4+,Ke6,Rc7,Rd7,Rc5,a6', 'Rxb5,axb5,Rxa8', 'https://lichess.org/training/gJcjh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GjCW2', 'Rapid', 'Selection2', 2091, 'noamdo', 1938, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Be3,Bg4,Rb1,b6,Qd2,Bxf3,gxf3,cxd4,cxd4,Nc6,d5,Ne5,Be2,Rc8,Rb4', 'Nxf3+,Bxf3,Bc3', 'https://lichess.org/training/GjCW2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gjdgt', 'Rapid', 'knightdelta2', 1896, 'amg457', 1983, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Bg4,Be2,O-O,O-O,Nfd7,h3,Bxf3,Bxf3,Nc6,Be3,e5,d5,Nd4,Be2,Nc5,b4,Nd7,Rc1,f5,exf5,gxf5,Bxd4,exd4,Nb5,d3,Qxd3,a6,Nd4,Ne5,Qc2,Qf6,Ne6,Rf7,c5,Bh6,Bh5,Ng6,Rce1,Re7,cxd6,cxd6,Qd3,Rae8,Re2,Rc8,Rc2,Ra8,f4,b5,Rc6,Rd7,Rfc1,Ne7,Rc7,Rxc7,Rxc7,Kh8,Rd7,Rg8,Kh2,Rc8,Qd2,Rc4,Rd8+,Ng8,Rxd6', 'Bxf4+,Nxf4,Qxd6', 'https://lichess.org/training/Gjdgt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gje3M', 'Rapid', 'aliali1975', 2067, 'Shadigamaan', 1865, 'e4,d6,Nf3,g6,d4,Bg7,Be2,Nf6,Nc3,Nc6,O-O,O-O,Bg5,h6,Bh4,g5,Bg3,Nh5,d5,Nxg3,hxg3,Ne5,Nd4,c5,Nf3,Bg4,Qd2,Qa5,Rfe1,a6,Nd1', 'Nxf3+,Bxf3,Qxd2', 'https://lichess.org/training/Gje3M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJf7A', 'Rapid', 'fer7777', 1681, 'Lesnick86', 1923, 'd4,d5,Bf4,Nc6,Nf3,Bf5,a3,Nf6,h3,Nd7,e3,f6,Nh4,Be6,Nc3,g5,Bxg5,fxg5,Nf3,h6,Qd3,Bf7,Qf5,Nf6,Ne5,e6,Qf3,Qe7,Bb5,Nd7,Bxc6,bxc6,Nxc6,Qf6,Qg3,Bd6,Qg4,O-O,h4,Bg6,O-O-O,Qxf2,Qxe6+,Kg7,Rd2,Qf5,Qxd5,Qxd5,Nxd5,Rfe8,hxg5,hxg5,Na5,Be4,Nc3,Bf5,Nc4,Bg3,d5,Nf6,Rf1,Bg4,Nb5,Rad8,Nxc7,Rd7,Nxe8+,Nxe8,Rd4,Nf6,Kd2,Nxd5,e4,Bf4+,Kd3,Nf6,Rxd7+,Nxd7,Ne3,Ne5+,Kd2', 'Nc4+,Kd3,Nxe3', 'https://lichess.org/training/GJf7A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gjf9m', 'Rapid', 'mateolaroca8', 1795, 'M9ow', 1808, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nc3,d5,e3,O-O,Be2,Bg4,O-O,Nbd7,Bh4,c5,dxc5,Nxc5,Nd4,Bxe2,Qxe2,e5,Nb3,b6,Rad1,Nxb3,axb3,d4,exd4,exd4,Ne4,Re8,Nxf6+,Bxf6,Bxf6,Qxf6,Qd3,Rad8,Rfe1,Rxe1+,Rxe1,a5,f3,Qc6,Kf2,b5,Re4,Qc5,Ke2,Rc8,Kd2,Qb4+,Ke2,Qc5,Kd1,Rd8,Kd2,Qg5+,Kd1,Qxg2,Qxb5,Qxf3+,Qe2,Qh1+,Kd2,Qa1,Re8+,Rxe8,Qxe8+,Kg7,Qe5+,f6,Qe7+,Kh6,Qxf6,Qxb2,Qf4+,Kg7,Qe5+,Kh6,Qf4+,g5,Qf6+,Kh5,Qf3+,g4,Qf5+,Kh4,Qxh7+,Kg5,Qg7+,Kf4,Qf6+,Ke4,Qg6+,Kf4,Qf6+,Ke4,Qe6+,Kf3,Qe2+,Kf4,Qd3,Kg5,Qb5+,Kh4,Qd3', 'Qc3+,Qxc3,dxc3+,Kxc3,Kh3', 'https://lichess.org/training/Gjf9m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJg24', 'Rapid', 'IoannisAthanasios', 2426, 'Berthe', 2220, 'c4,Nf6,g3,e6,d4,d5,Nf3,Be7,Bg2,O-O,O-O,dxc4,Qc2,a6,a4,Bd7,Qxc4,Bc6,Bg5,Nbd7,Nc3,h6,Bxf6,Nxf6,b4,Bd5,Nxd5,exd5,Qb3,c6,Rfc1,Re8,e3,Qb6,Rab1,Ne4,Rc2,Rab8,Ne5,Nf6,b5,axb5,axb5,cxb5,Qxb5,Qxb5,Rxb5,Bd6,Nd3,Rec8,Rcb2,Rc3,Bf1,Rc7,Bg2,Rc3,Bf1,Rc7,Rb1,Kf8,Bg2,Rc3,Nb4,Bxb4,R1xb4,Rc1+,Bf1,Ne4,Rb2,Ra8,Rb1,Ra1,Rxa1,Rxa1,Rb2,Ke8,Kg2,Nd6,Be2,Kd7,Bf3,Ra5,Kh3,g6,Kg4,f5+,Kf4', 'g5+,Ke5,Nc4+,Kxf5,Nxb2', 'https://lichess.org/training/gJg24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJgIE', 'Blitz', 'Solomon_Scorp', 1593, 'raensi', 1657, 'd4,e6,Nf3,d5,Bf4,Bd6,e3,Bxf4,exf4,f6,Bd3,Nc6,c4,Nge7,c5,O-O,O-O,b6,b4,a6,cxb6,cxb6,Qe2,Nxb4,a3,Nxd3,Qxd3,b5,Nbd2,Bd7,Rfb1,Nc6,Nb3,Qe7,Nh4,Qd6,g3,e5,fxe5,fxe5,dxe5,Nxe5,Qd4,Nc6,Qd2,Be6,Re1,Bf7,Nd4,Rac8,Ndf5,Qf6,Rac1,Na5,Qxa5,Rxc1,Rxc1,g6,Nh6+,Kg7,Nxf7,Rxf7,Rc7', 'Qxf2+,Kh1,Qf1#', 'https://lichess.org/training/gJgIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJgYa', 'Blitz', 'wamidh77', 1704, 'typos', 1774, 'd4,d5,c4,e6,Nc3,c6,Nf3,Nd7,Bg5,f6,Bf4,h6,e3,g6,Bd3,f5,O-O,Bg7,Ne5,Ne7,Re1,Nxe5,Bxe5,Bxe5,dxe5,O-O,cxd5,exd5,f3,Be6,e4,b6,exf5,Nxf5,Qc2,Qg5,Ne2,Kh7,f4,Qh5,h3,Qh4,g4,Ng3,Kh2,Bxg4,Bxg6+,Kh8,Nxg3,Qxh3+,Kg1,Qxg3+,Qg2,Qxg2+,Kxg2,Rxf4,e6,Raf8,e7,Rf2+,Kg3,R2f3+,Kxg4', 'R8f4+,Kh5,Rh3#', 'https://lichess.org/training/gJgYa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GjhD5', 'Rapid', 'msudi_123', 1951, 'Mendes1970', 1884, 'd4,d5,c4,Bf5,Nc3,Nf6,Nf3,e6,cxd5,exd5,e3,Nc6,Bb5,a6,Bxc6+,bxc6,Ne5,Qd6,O-O,Be6,a4,h5,b3,Ng4,Ba3,Qd8,Nxc6,Qh4,h3,Bxa3,Rxa3,g5,Qf3,f5,hxg4', 'hxg4,Qh3,gxh3', 'https://lichess.org/training/GjhD5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJHv3', 'Rapid', 'vasyliy1958', 1698, 'savageboy', 1641, 'e4,e5,Nf3,Nc6,Bc4,Bb4,c3,Bc5,d3,Nf6,h3,O-O,O-O,d5,exd5,Nxd5,Bxd5,Qxd5,Be3,Bxe3,fxe3,Qb5,Qc2,Qd5,Nbd2,Qe6,Kh2,Qg6,Ne4,f5,Nf2,f4,e4,Qg3+,Kh1,Rf6,Rg1,g5,Nh2,g4,Nhxg4', 'Bxg4,Nxg4,Qxg4', 'https://lichess.org/training/gJHv3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJjIg', 'Rapid', 'Dopamina70', 1609, 'Anurag1212', 1620, 'd4,d5,Nf3,Bf5,c4,c6,Qb3,Qc7,Nc3,Nf6,g3,Nbd7,Bf4,Qb6,Qd1,Qxb2,Na4,Qb4+,Bd2,Qxc4,Rc1,Qxa2,Bg2,e6,O-O,Ba3,Ra1,Qc4,Rxa3,Bc2,Qa1,Bxa4,Rxa4,Qxe2,Rxa7,Rxa7,Qxa7,O-O,Qxb7,c5,dxc5,Nxc5,Qa7,Nce4,Be3,Rc8,Nd4,Qh5,Ra1,h6,Qb7,Rf8,Nc6,Ng4,Ne7+,Kh8,h3,Nxe3,Bxe4,dxe4,fxe3,Qxh3,Qxe4,Qxg3+,Kf1,Rb8,Qf4,Qh3+,Ke2,Rb2+,Kd3,Rb3+,Kc4,Rb7', 'Ra8+,Kh7,Qe4+,g6,Qxb7', 'https://lichess.org/training/GJjIg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJJla', 'Rapid', 'Chaeppeler', 1867, 'SpamPoppy', 1777, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d4,exd4,e5,d5,Bb5,Nd7,Bg5,f6,exf6,gxf6,Re1+,Kf7,Bh4,Re8,Nbd2,a6,Bxc6,bxc6,Nb3,Rxe1+,Qxe1,Be7,Nfxd4,c5,Nc6,Qf8,Qe2,Ne5,Qh5+,Ng6,Qxd5+,Be6,Qf3,Nxh4,Qh5+,Ng6,Re1,Re8', 'Qxh7+,Qg7,Qxg7+,Kxg7,Rxe6', 'https://lichess.org/training/GJJla');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJJuA', 'Classical', 'trustfundkid', 1628, 'AlpBintug', 1629, 'd4,e6,Bf4,d5,e3,a6,c3,Bd6,Bg3,Nf6,Nf3,O-O,Bd3,Nbd7,Nbd2,c5,Bxd6,Re8,Bxc5,Nxc5,dxc5,Qc7,b4,e5,e4,b6,Qc2,bxc5,bxc5,Qxc5,exd5,e4,Nxe4,Nxe4,Bxe4,Rxe4+,Qxe4,Qxc3+,Ke2,g6,Qe8+,Kg7,Qe5+,Qxe5+,Nxe5,a5,d6,Ba6+,Ke3,Kf6,f4,Ke6,d7,Rb8,Rad1,Rd8,Kd4,f6,Kc5,fxe5,Rd6+,Ke7,Rxa6,Rxd7,fxe5,Rc7+,Rc6,Rd7,Rd6,Ra7,Kd5,a4,e6,Ra5+,Kc6,Ra6+,Kb5,Rxd6,Kxa4,Rd2,Kb3,Rxg2,Re1,Rxh2,a4,Rh5,Kb4,Rf5,a5,h5,a6,Rf8,Kb5,h4,Kb6,h3,Kb7,h2,a7,g5,a8=Q', 'Rxa8,Kxa8,g4', 'https://lichess.org/training/GJJuA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJkmQ', 'Rapid', 'Vakha1962', 1791, 'mirlord', 1839, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,h3,a6,a3,d6,Qd2,Nd7,O-O,Nxd4,Bxd4,Bxd4,Qxd4,Ne5,Bb3,Bxh3,f4,Nc6,Qe3,Be6,Nd5,b5,f5,Bxd5,Bxd5,Rc8,fxg6,hxg6,Rf3,Ne5,Raf1,Nxf3+,Rxf3,Kg7,Rh3,Rh8,Rf3,e6,Qf4,Rc7,Bb3,Rh4,Qe3,Rc5,g3,Rh8,Kg2,Qc7,c3,Rch5,Qd4+,Kf8,Bxe6,Rh2+,Kf1,Rh1+,Ke2,R8h2+,Ke3,Re1+,Kf4,fxe6,Kg4+,Ke8,Qf6,Qe7,Qxg6+,Kd8,Qg8+,Qe8,Rf8,Rxe4+', 'Kf3,Qxf8+,Qxf8+', 'https://lichess.org/training/GJkmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJkSE', 'Blitz', 'bagofChess', 1607, 'Capitan_Centella_GT', 1616, 'e4,g5,Nf3,h6,d3,Bg7,Nxg5,hxg5,Bxg5,Bxb2,c3,Bxa1,Qb3,f6,Be3,Nc6,Be2,Nh6', 'Bh5+,Kf8,Bxh6+,Rxh6,Qf7#', 'https://lichess.org/training/gJkSE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJLCh', 'Rapid', 'alanyaresim', 1767, 'almio2', 1772, 'e4,c6,f4,d5,e5,Bf5,d4,e6,Be2,Nd7,Bg4', 'Qh4+,g3,Qxg4,Qxg4,Bxg4', 'https://lichess.org/training/gJLCh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJlnI', 'Rapid', 'CaptanAhab9', 1886, 'marko234567', 1824, 'd4,d5,c4,e6,Nc3,Nf6,e3,a6,cxd5,exd5,h3,c5,Nf3,cxd4,exd4,Bb4,Bd3,O-O,O-O,Nc6,a3,Bd6,Be3,Be6,Rc1,Qd7,Re1,Rac8,Na4,Ne7,Rxc8,Qxc8,Nc5,b6,Nxe6,fxe6,Ne5,Nd7,f4,Nf5,Bxf5,Rxf5,Qc1,Rf8', 'Qxc8,Rxc8,Nxd7', 'https://lichess.org/training/GJlnI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJlXV', 'Blitz', 'matheuschess', 2039, 'Ninja_650', 2070, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,c6,Bc4,Bf5,O-O,e6,Bg5,Qc7,Bb3,Nbd7,Ne5,Nxe5,dxe5,Qxe5,Re1,Qc7,Bxf6,gxf6,Ne4,Bxe4,Rxe4,Bd6,Qh5,O-O-O,Rae1,Be5,c3,Rhg8,g3,Rg7,Qh6,Rdg8,a4,Bxg3,hxg3,Rxg3+,fxg3', 'Qxg3+,Kf1,Qg2#', 'https://lichess.org/training/gJlXV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJMog', 'Blitz', 'Carterkay47', 1935, 'Fehmiu', 1929, 'e4,e5,Nf3,d6,d4,exd4,Bc4,Nf6,O-O,Be7,c3,O-O,Re1,dxc3,Nxc3,c6,Bg5,b5,Bb3,Nfd7,Be3,Nc5,Bxc5,dxc5,Qe2,Bg4,Rad1,Qc7,a4,c4,Bc2,a6,h3,Bh5,g4,Bg6,Nd4,Nd7,f4,Qxf4,Nxc6,Bd6,Rf1,Qg3+,Qg2,Bc5+,Kh1,Qxg2+,Kxg2,Nb6,axb5,axb5,Nxb5,Na4,b4,cxb3,Bxb3,Nb2,Rd7,Bxe4+,Kg3,Bxc6,Rc7,Bxb5,Rfxf7,Bd4', 'Rxg7+,Kh8,Rxh7#', 'https://lichess.org/training/GJMog');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gjMXM', 'Rapid', 'AlwaysLikeThis', 1809, 'mar2020mar', 1754, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,O-O,Nf6,Re1,Be6,Bxe6,fxe6,Nxd4,Nxd4,Qxd4,Be7,c4,c5,Qd3,O-O,Nc3,Ng4,f3,Ne5,Qe2,Bg5,Rf1,Bf4,b3,Qh4,g3', 'Bxg3,hxg3,Qxg3+', 'https://lichess.org/training/gjMXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJnJJ', 'Rapid', 'PaoloWillian', 1607, 'LightSquaredBishop', 1699, 'e4,c5,d4,cxd4,c3,Nf6,Qf3,dxc3,e5,cxb2,Bxb2,Qa5+', 'Bc3,Qd5,exf6', 'https://lichess.org/training/GJnJJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GjnSU', 'Rapid', 'derosi', 1803, 'EdgarGuediguian', 1779, 'e4,e5,d4,exd4,Bc4,Nc6,c3,dxc3,Nf3,cxb2,Bxb2,Nf6,O-O,Bc5,Bxf6,Qxf6,Qd5,d6,Nbd2,O-O,Nb3,Be6,Qd3,Nb4,Qe2,Bxc4,Qxc4,b6,h3,Qb2,Nxc5,bxc5,a3,Nc2,Ra2,Nxa3,Qd5,Qb4,e5,Nb5,exd6,Nc3,Qd2,Nxa2,Qxa2,cxd6,Nh2,Rfe8,Ng4,c4,Rb1,Qc5,Rc1,d5,Qd2,Rad8,Qc3,d4,Qg3,Kh8,Qf4,Re7,h4,c3,h5,d3,h6,gxh6', 'Qf6+,Kg8,Nxh6+,Kf8,Qh8#', 'https://lichess.org/training/GjnSU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJP6X', 'Blitz', 'JimmyBoy12', 1623, 'barolettt', 1595, 'e4,e5,Nf3,d6,b3,Bg4,Bb2,Bxf3,Qxf3,Nf6,d3,Nc6,Nc3,Be7,Qg3,O-O,Be2,Nd4,O-O-O,a6,Kb1,b5,Bg4,c5,Ne2,a5,Nxd4,cxd4,h4,h6,h5,Nxg4,Qxg4,a4,f4,exf4,Qxf4,Bf6,g4,axb3,cxb3,b4,Rd2,Qa5,Ba1,Qa3,Qf2,Rac8,Bxd4,Bg5,Re2', 'Rc1+,Rxc1,Qxc1#', 'https://lichess.org/training/gJP6X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gjpK7', 'Rapid', 'KoMaTo3HuK', 1791, 'Pawngrabber1', 1938, 'e4,f5,exf5,Nf6,d4,d6,Bd3,Nc6,Nf3,e5,fxe6,Bxe6,O-O,Be7,Re1,Bf7,Bg5,O-O,Nc3,Bh5,Bc4+,Kh8,Qd3,Ng4,Bxe7,Nxe7,Qe4,Re8,Bd3,Nf6,Qh4,Ng6,Qh3,Bg4,Qg3,Qd7,Bxg6,hxg6,Ng5,Rxe1+,Rxe1,Re8,Rxe8+,Qxe8,h3,Bf5,Qh4+,Kg8,g4,Qe1+,Kg2,Bxc2,Nd5', 'Be4+,Nxe4,Qxe4+', 'https://lichess.org/training/gjpK7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gjPQy', 'Rapid', 'LelouchLamperyg1', 1723, 'syd-barrett', 1727, 'e4,e6,d4,Qe7,c4,b6,Nc3,Bb7,Bd3,a6,Nge2,d6,O-O,Nd7,b4,f6,a4,g5,Bb2,h5,d5,e5,Ba3,g4,c5,dxc5,bxc5,Nxc5,Ng3,O-O-O,Nf5,Qf7,Bc4,Bd6,Qe2,a5,Ba6,Bxa6,Qc2,Bb7,Nb5,Kb8,Nfxd6,cxd6,Rab1,h4,f4,exf4,Rxf4,g3,h3,Ne7,Nc3,Ng6,Rff1,Ne5,Rxb6,Nc4,Bxc5,dxc5,Rbxf6,Qh5,Qb3,Nd2,Qb6,Nxf1,Kxf1,Rdf8', 'Qd6+,Kc8,Rxf8+,Rxf8+,Qxf8+', 'https://lichess.org/training/gjPQy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gjPVL', 'Rapid', 'remchenes', 1917, 'Kiddomania', 2043, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nf6,Be2,Be7,O-O,O-O,dxc5,Bxc5,Nbd2,Nc6,Nb3,Bd6,Bg5,Be6,Bh4,h6,Nbd4,Nxd4,Nxd4,Bd7,Re1,Re8,Nb5,Bxb5,Bxb5,Rxe1+,Qxe1,Bxh2+,Kh1,Bc7,Rd1,g5,Bg3,Bxg3,fxg3,a6,Ba4,Qd6,Rd4,Rd8,Bb3,Qe6,Qf2,Ne4,Qf3,Qe5,Kh2,Nf6,Bc2,Kg7,Bb3,Rd6,Rb4,b5,a4,bxa4,Bxa4,d4,cxd4,Rxd4,Qc3,Ng4+,Kg1,Rd1+', 'Bxd1,Qxc3,bxc3', 'https://lichess.org/training/gjPVL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJQaz', 'Rapid', 'Rudolf-Sikorski', 1923, 'alfir', 1921, 'e4,e5,d4,exd4,c3,Be7,Bc4,c6,Qb3,d5,exd5,Nf6,dxc6,Nxc6,Bxf7+,Kf8,Bc4,Na5,Qa4,Nxc4,Qxc4,dxc3,Nxc3,Bf5,Nf3,Bd3,Qb3,Bc5,Ne5,Qe7,Bf4,Ng4,O-O-O,Nxe5,Rhe1,Qh4,Bxe5,Bxf2,Rf1,Qg5+,Bf4', 'Qxf4+,Rd2,Bxf1', 'https://lichess.org/training/GJQaz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GjRyS', 'Blitz', 'FM RetiLangweiler', 2569, 'edgarhay012', 2340, 'Nf3,Nf6,g3,d5,Bg2,c6,O-O,Bg4,d3,Nbd7,c4,e5,cxd5,cxd5,Nc3,Be7,h3,Bh5,Nh4,Nb6,Nf5,O-O,Bg5,Bb4,Qb3,Bxc3,bxc3,Bxe2,Rfe1,Bxd3,Rxe5,Bc4,Qc2,Nbd7,Ne7+,Kh8,Bxf6,Nxf6,Rae1,Qd7,g4,Rae8,Qb1,b6,Kh1,g6,f4,Qa4,f5,g5,Qc1,h6,Qe3,Nd7', 'Ng6+,Kg7,Rxe8', 'https://lichess.org/training/GjRyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJSA7', 'Rapid', 'DORLISS', 1819, 'Ragato', 1650, 'e4,e6,d4,d5,exd5,Qxd5,Nc3,Qd8,Bd3,Nc6,Nf3,Nf6,O-O,Bd6,d5,exd5,Re1+,Be6,Nxd5,Nxd5,Bf5,O-O,Bxe6,fxe6,Rxe6,Re8,Qxd5', 'Bxh2+,Nxh2,Qxd5,Rxe8+,Rxe8', 'https://lichess.org/training/GJSA7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GjTBk', 'Rapid', 'Pailai', 1688, 'oktabadi', 1771, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,a6,a3,Nf6,Rg1,e5,Nde2,Be6,Bg5,Rc8,Nd5,Be7,Nxe7,Qxe7,Nc3,h6,Bh4,g5,Bg3,Nd4,f3,Qc7,h4,Nh5,Bf2,gxh4,Bxd4,exd4,Qxd4,f6,O-O-O,Kf7,Qxd6,Qxd6,Rxd6,Ng3,Bd3,Ke7,Rb6,Rc7,Re1,Rd8,e5,f5,f4,Nh5,Rd1,Nxf4,Bf1,Rxd1+,Nxd1,Ng6,Ne3,Nxe5,Be2,Nc6,Bc4,Nd4,Bxe6,Nxe6,Nxf5+,Kf6,Nxh6,Rg7,Rb4,Kg5,Ng4,Nf4,Ne3,Re7,Kd2,Nxg2', 'Rg4+,Kh5,Rxg2', 'https://lichess.org/training/GjTBk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gjtjl', 'Rapid', 'Deri_Dey', 1857, 'DoriaNNN', 1869, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Nc3,Qa5,Bd2,Nf6,Ne4,Qf5,Nxf6+,gxf6,Be2,O-O-O,c3,Rg8,O-O,e6,b4,Bd6,a4,Qh5,g3,f5,b5,Ne7,c4,f4,c5,fxg3,cxd6,Bxf3,fxg3,Bxe2,Qc2,Nd5,Rf2,Rxd6,Rc1,Rd7,a5,Bxb5,Qc5,a6,Bf4,Nxf4,Qa7,Nh3+,Kg2,Bc6+,Rxc6,Rdd8,Qa8+,Kd7,Qxb7,Qd5+,Kxh3,Qxc6,Rxf7+,Kd6,Qb4+,Kd5,Qb3+,Qc4,Qf3+,Kd6,Qf4+,Kd5', 'Qe5+,Kc6,Rxc7#', 'https://lichess.org/training/Gjtjl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GjTMp', 'Rapid', 'tichakim', 1965, 'ammarhmo', 1883, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,d3,Nxc3,bxc3,Be7,O-O,d6,d4,exd4,cxd4,O-O,d5,Na5,Be2,Bg4,Bb2,Bxf3,Bxf3,Nc4,Bd4,Bf6,c3,Bxd4,Qxd4,Ne5,Be2,Qg5', 'f4,Qg6,fxe5', 'https://lichess.org/training/GjTMp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gjTuK', 'Bullet', 'Skyfall747', 1807, 'Kuschiev_Vladislav', 1738, 'c4,g6,g3,Bg7,Bg2,Nc6,Nf3,b6,O-O,Bb7,Nc3,Na5,d3,d6,Rb1,Qd7,Qc2,Nf6,b4,Nc6,Bb2,Nxb4,Qc1,O-O,a3,Nc6,Nd5,Nxd5,Bxg7,Kxg7,cxd5,Ne5,Nxe5,dxe5,Qc3,Bxd5', 'Qxe5+,f6,Qxd5,Qxd5,Bxd5', 'https://lichess.org/training/gjTuK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJUmD', 'Rapid', 'NoNameK', 2039, 'cryptic999', 1937, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,c6,e3,Bd6,Bd3,h6,Bh4,Nbd7,Nge2,O-O,O-O,Bxh2+,Kxh2,Ng4+,Kg3,Qc7+,Kxg4', 'Nf6+,Kf3,Bg4#', 'https://lichess.org/training/GJUmD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJUoy', 'Rapid', 'GwenGwen', 1794, 'eLSeR17', 1841, 'e4,c5,Nf3,Nc6,Bc4,Nf6,Nc3,e6,e5,d5,exf6,dxc4,fxg7,Bxg7,O-O,O-O,Ne4,Nd4,c3,Nf5,Re1,b6,a4,Bb7,Qc2,Qd5,Ng3,Nxg3,hxg3,Qh5,Re3,Rad8,a5,f5,axb6,axb6,Ra7,Be4,Rxe4,fxe4,Qxe4,Rf6,d4,cxd3,Bg5,d2,Rxg7+,Kxg7,Bxf6+,Kxf6,Qf4+,Kg7', 'Qc7+,Kg6,Qxd8', 'https://lichess.org/training/gJUoy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJUwf', 'Blitz', 'carolinaQRT', 1557, 'Juan-Ortegon', 1726, 'e4,e6,Bc4,Nc6,Qf3,Qf6,Nc3,Bc5,h4,Qxh4,Rxh4,Nf6,Bd3,Kf8,Nh3,Kg8,Bc4,h5,a4,d5,Qf4,dxc4,Nb5,a6,d3,axb5,Be3,Rxa4,b3,Rxa1+,Ke2,Bb4,Bc5,Re1+,Kf3,Nd4+,Bxd4,Rh6,Bc5,Bxc5,Rg4,Nxg4,Ng5,Rf1', 'Qxf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/gJUwf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gjvip', 'Blitz', 'engfarnam', 1906, 'Moner66', 1934, 'e4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bb6,Nxc6,bxc6,Bxb6,cxb6,Bd3,d6,O-O,Be6,h3,O-O,f4,b5,a3,a6,f5,Bd7,Qe2,c5,e5,dxe5,Qxe5,Re8,Qxc5,Rc8,Qd6,Rc6,Qf4,Bc8,Rae1,Bb7,Kh2,h6,g4,Rxe1,Rxe1,Qb6,h4,Rd6,Re2,Nd5,Nxd5,Rxd5,Re8+,Kh7,f6+,g6,h5,Rg5,hxg6+,fxg6,f7,Rxg4,f8=Q', 'Qg1+,Kh3,Qg2#', 'https://lichess.org/training/gjvip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gjvWd', 'Rapid', 'RIHEZ', 1844, 'hendot', 2035, 'g3,g6,Bg2,Bg7,Nf3,d6,O-O,Nd7,d4,c5,e3,Qb6,b3,a6,Bb2,c4,Nbd2,d5,c3,cxb3,Qxb3,Qd6,Ba3,Qc6,Rac1,Ngf6,Ne5,Qb5,Rb1,Qxb3,axb3,Nxe5,dxe5,Nd7,f4,e6,e4,dxe4,Nxe4,Bf8,Nd6+,Bxd6,exd6,O-O,Rfd1,Rd8,c4,Rb8,c5,Nf6,Bb2,Nh5,Bf3,Bd7,Bxh5,gxh5,Bf6,Rdc8,Rbc1,h6,b4,Kh7,Be5,Rc6,h3,Kg6,g4,hxg4,hxg4,f6,Bb2,Rg8,Kg2,Kf7,Kg3,h5,g5,fxg5,fxg5,Rxg5+,Kh4,Rf5,Rf1,Kg6,Rg1+,Kf7,Rgf1,Rc8,Rxf5+,exf5,Kxh5,Rg8,Rb1,Rg2,Be5,Ke6,Bf4,Rg4,Be3,Kf6,Rg1', 'Be8+,Kh6,Rh4#', 'https://lichess.org/training/gjvWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gJxeZ', 'Rapid', 'Mang090', 1672, 'Kawis123', 1688, 'e4,e6,d4,d5,e5,c5,c3,a6,Qa4+,Bd7,Qb3,b5,Be3,c4,Qc2,Ne7,Bg5,Qb6,a3,Nf5,g3,h6,Be3,Nxe3,fxe3,Be7,Bg2,Bg5,Qd2,Nc6,Nf3,Be7,O-O,a5,Qf2,b4,Nfd2,O-O,a4,bxc3,Nxc3,Qxb2,Nb5,Nb4,Rfb1,Qc2,Na3,Qf5,Qe1,Nd3,Qe2,Bxa4,Rf1,Qg6,Naxc4,dxc4,Rxa4,Bb4,Be4,Qg5,Nxc4,Ne1,Nd2,Bxd2,Qxd2,Qg4,Rf4,Qh3,Qxe1,Rac8,Bg2,Qh5,Rxa5,Rc2,Qb1', 'Qe2,Qxc2,Qxc2', 'https://lichess.org/training/gJxeZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GJylS', 'Blitz', 'WFM jennys2600', 2172, 'Gredziakooo', 2077, 'd4,d5,Nf3,e6,c4,Nf6,g3,Be7,Bg2,O-O,O-O,b6,Nbd2,Bb7,Qc2,Nbd7,Rd1,Rc8,cxd5,exd5,Ne5,Bd6,Nxd7,Qxd7,Nf3,Rfe8,Be3,Ne4,Rac1,c5,dxc5,bxc5,b3,d4,Bd2,Nxd2,Qxd2,Qf5,Nxd4,cxd4,Bxb7,Rxc1,Rxc1,a5,Bf3,Bb4,Qxd4,Qg5,Rd1,h6,Qd7,Re7,Qc8+,Kh7,Rd8,Qe5,Rh8+,Kg6,Qc2+,Kf6,h4,Rc7,Qe4,Qa1+,Kg2,Rc1,Qf4+,Ke7,Qe4+,Kf6,g4,Rg1+,Kh3,Qf1+,Bg2,Rh1+,Kg3,Bd6+,f4,Qe1+,Kf3,Rf1+,Bxf1,Qxf1+,Kg3,Qg1+,Kf3', 'Qh1+,Ke3,Bc5+,Qd4+,Bxd4+', 'https://lichess.org/training/GJylS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GjznV', 'Rapid', 'Elian640', 1738, 'fkzlcm', 1945, 'd4,d5,Bf4,c5,e3,Nc6,Bd3,e6,c3,f5,Nf3,Nf6,h3,Bd6,Bxd6,Qxd6,Nbd2,c4,Bc2,a6,a4,O-O,b3,cxb3,Bxb3,Na5,Ba2,Bd7,c4,Bc6,O-O,dxc4,Nxc4,Nxc4,Bxc4,Bd5,Be2,Rab8,Qd2,b5,axb5,axb5,Rab1,Ne4,Qb4,Qxb4,Rxb4,Bc6,Ne5,Be8,Rc1,Nf6,Rc5,Nd5,Rb1,b4,Nc6,Rb6,Na5,Nc3', 'Rxc3,bxc3,Rxb6', 'https://lichess.org/training/GjznV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gk02P', 'Rapid', 'wolololololooooo', 1674, 'amrt', 1665, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,O-O,Nf6,d3,h6,Nc3,Nc6,Be3,d5,a3,d4,Bd2,dxc3,Bxc3,Nd4,Nxe5,Qd6,Ng6,Rg8,e5,Qd8,exf6,Qxf6,Nxf8,Rxf8,Qh5+,Kd7,Qg4,c5,b4,b6,a4,Ne2+,Qxe2,Qxc3,bxc5,Qxc5,Rfe1,Rae8,a5,b5,Red1,Re7,d4,Qd5,Rab1,a6,c4,bxc4,Rb6,Qxa5,Rb7+,Kd6', 'Qe5+,Qxe5,dxe5+,Kxe5,Rxe7', 'https://lichess.org/training/gk02P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gK0e2', 'Rapid', 'ZaneleShabs', 1794, 'mnoerr', 2125, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Nc3,Ne7,Bg5,Nd7,h3,Qb6,Na4,Qa5+,Nc3,c5,dxc5,Nc6,Bd2,Qxc5,a3,Ncxe5,Nxe5,Nxe5,Bb5+,Nc6,b4,Qb6,O-O,a6,Bxc6+,Qxc6,Re1,Be7,Bf4,O-O,Nxd5,exd5,Rxe7,Be6,Rc7,Qb6,Qf3,Rac8,Rxc8,Rxc8,Qg3,Rxc2,Bh6,Qd4,Ra2,Rxa2', 'Qb8+,Bc8,Qxc8#', 'https://lichess.org/training/gK0e2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gk1ry', 'Rapid', 'namangupta121', 1900, 'stummeyerschach', 2171, 'd4,Nf6,Bf4,d5,e3,b6,Nc3,a6,Nf3,Bb7,Ne5,e6,Bg5,Be7,h4,h6,Bf4,Bd6,Bd3,O-O,g4,Bxe5,Bxe5,Nbd7,g5,Nxe5,gxf6,Nxd3+,Qxd3,Qxf6,O-O-O,c5,Rdg1,cxd4,exd4,Rac8,Rg3,Rc4,Rhg1,Qxd4,Rxg7+,Qxg7,Rxg7+,Kxg7,Ne2,Rfc8,c3,Rg4,Nd4,Rg8,Kc2,Kh8,Qf3,R4g7,Qe3,Kh7,Nf3,Rg2,Ne5,f6,Nf7,d4', 'Qxh6#', 'https://lichess.org/training/gk1ry');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gk2fp', 'Rapid', 'MohamedH_Khadra', 1893, 'Mohammed_3650', 2046, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,O-O,Bg4,Be3,Nf6,Nc3,O-O,h3,Bh5,d5,Ne5,Be2,Nfd7,Nxe5,Bxe2,Qxe2,Nxe5,f4,Bxe3+,Qxe3,Nc4,Qf2,f5,b3,Nb6,e5,dxe5,fxe5,Nxd5,Rad1,c6,Qf3,Qb6+,Kh1,Ne3', 'Na4,Qb4,Qxe3', 'https://lichess.org/training/gk2fp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gK3p5', 'Rapid', 'ronanronan', 1948, 'girafe_bleue', 2040, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,Bxc3+,bxc3,bxc6,Bd3,Qe7,O-O,O-O,Bg5,h6,Bh4,Qe5,Qe1,d6,f4,Qc5+,Kh1,Ng4,h3,Nf6,Bxf6,gxf6,Qh4,Kg7,Rf3,Rg8,Rg3+,Kh7,Qxf6,Rxg3,e5+,Rxd3,Qxf7+,Kh8,cxd3,dxe5,f5,Qf2,f6,Qg3,Qf8+,Qg8,Qxh6+,Qh7,Qxh7+,Kxh7,g4,Be6,Kh2,Rd8,Rf1,Bf7,Rf3,Kg6,h4,Rd6,g5,Kh5,Kh3,Be6+,Kg3,Bf7,a3,a5,c4,Rd4,g6,Kxg6,a4,Rf4,Re3,Kxf6,Kh3,Ke6,Kg3,Kd6,Re1,Kc5', 'Rxe5+,Kd6,Kxf4', 'https://lichess.org/training/gK3p5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gK4ip', 'Rapid', 'mementomoriok', 2164, 'tbunji', 2292, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,O-O,O-O,a4,b4,Re1,h6,Nbd2,d6,Nf1,Na5,Ba2,c5,Ne3,Rb8,Bd2,Nc6,h3,Qb6,Nc4,Qc7,Bb3,Be6,Nh4,Nd4,Ba2,b3,Bxb3,Nxb3,cxb3,Bxc4,dxc4,Qb7,Nf5,Rfe8,Bc3,Nxe4,Qg4,Ng5,f4,exf4,Qxf4,Bf8,Nxh6+,gxh6,Qf6,Re5', 'Rxe5,dxe5,Bxe5', 'https://lichess.org/training/gK4ip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gk4zp', 'Rapid', 'TimAstier', 2035, 'Krembrule', 2011, 'e4,g6,Nf3,Bg7,d4,d6,c4,Nf6,Nc3,O-O,Be2,Nbd7,O-O,c5,Be3,cxd4,Bxd4,Nc5,Qc2,a6,b4,Ne6,Be3,Ng4,Bc1,Ne5,Bb2,Nxf3+,Bxf3,Nd4,Qd3,Nxf3+,Qxf3,Qb6,Nd5,Qd8,Bxg7,Kxg7,Qc3+,Kg8,Qe3,Be6,Nb6,Rb8,f4,f5,exf5,Bxf5,Rad1,Qc7,Nd5,Qxc4,Nxe7+,Kg7,Nxf5+,Rxf5,Rxd6,Qxb4', 'Qe7+,Kh8,Rd8+,Rxd8,Qxb4', 'https://lichess.org/training/gk4zp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GK511', 'Blitz', 'Lord-Universe', 2096, 'levmiseri', 1891, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,d6,c3,g5,Nbd2,Bg7,d4,Bg4,Qb3,O-O,dxe5,dxe5,Qxb7,Na5,Qa6,Bxf3,Nxf3,c5,Nxe5,Nxe4,Nc6,Nxc6,Qxc6,Nd2,Bxd2,Qxd2,Rad1,Qxb2,Rd7,Qxc3,Bxf7+,Kh8,Bg6,Rac8,Qb7,Rb8,Qxa7,Rb2,Rf7,Rxf2,R1xf2,Qe1+,Rf1', 'Bd4+,Kh1,Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/GK511');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GK58M', 'Rapid', 'volt77665544', 1770, 'pezdecolor', 1795, 'e4,e6,d4,Nf6,Nc3,Bb4,e5,Bxc3+,bxc3,Nd5,Nf3,Nxc3,Qd3,Nd5,Ba3,d6,exd6,cxd6,Be2,b6,O-O,Nf4,Qe4,Nd5,Bc4,Nc7,Bb3,d5,Qf4,Nb5,Bb4,a5,Bd2,Ba6,Rfe1,Qd6,Qxd6,Nxd6,Bxd5,O-O,Bxa8,Nc4,Bf4,Nd7,Be4,Nf6,Bd3,b5,Bxc4,bxc4,c3,Nd5,Bg3,Nxc3,Rec1,Ne2+,Kf1,Nxc1,Rxc1,f5,Kg1,h6,h3,Rd8,Be5,Rc8,Nh4,Kf7,f4,Bb7,Rb1,Be4,Rb5,a4,Ra5,Bc2,Nf3,Rc6,Ra7+,Kg6,Rc7,Rxc7,Bxc7,Be4,Nd2', 'c3,Nxe4,c2,Nc5,c1=Q+', 'https://lichess.org/training/GK58M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gk6dZ', 'Rapid', 'caissa246', 1859, 'Gabriel_Lopes', 1723, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Be6,d3,Be7,Nf3,Nc6,O-O,O-O,Rb1,a6,Bd2,Nxc3,Bxc3,Bxa2,Rc1,Nd4,Nxe5,Bf6,f4,Bb3,Qd2,Bxe5,fxe5,Rb8,e3,Ne6,d4,c5,d5,Nc7,d6,Ne6,Qf2,Qg5,Rfe1,b5,e4,b4,Bd2,Qxe5,Qe3,Ba4,b3,Bb5,Red1,Rfd8,Bh3,Rxd6,Bxe6,Qxe6,Rxc5,Rd3', 'Rxb5,Rxb5,Qxd3', 'https://lichess.org/training/gk6dZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gK6zO', 'Rapid', 'zarathutra', 2149, 'combatente', 2098, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,h6,Bh4,O-O,Bd3,b6,Nf3,Bb7,Rb1,Nbd7,b4,Ne4,Bxe7,Qxe7,Qc2,Rac8,b5,Nxc3,Qxc3,c6,bxc6,Rxc6,Qb3,Rfc8,O-O,Rc3,Qd1,Qa3,Bf5,R8c7,Qd2,Nf6,Ne5,Ne4,Qb2,Qxb2,Rxb2,Rc1,g3,Ba6,Rxc1,Rxc1+,Kg2,Ng5,Bd3,Bxd3,Nxd3,Rc7,Nf4,Rd7,Rb5,Ne4,Rxd5,Rxd5,Nxd5,Kf8,f3,Nd6,Kf2,b5,Ke2,a5,Kd3,Ke8,e4,b4,e5,Nb7,Kc4,Kd7,Kb5,Ke6,Nf4+,Kf5,Kb6,Nd8,Kc7,Ne6+,Nxe6,Kxe6,Kb6,a4,Kc6,b3,d5+,Kxe5,d6,b2,d7,b1=Q,d8=Q,Qc2+,Kb5,Qe2+,Kxa4,Qxa2+,Kb5,Qb3+,Kc5,Qa3+,Kb5,Qb3+,Kc6,Qc4+,Kd7,Qe6+,Kc7,Qc4+,Kb8,Qb5+,Kc8,Qc5+,Kd7,Qd5+,Ke8,Qxd8+,Kxd8,f5,Ke7,g5,Kf7,h5', 'Kg6,h4,Kxg5', 'https://lichess.org/training/gK6zO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GK8G2', 'Rapid', 'robcaju', 1722, 'H-E-T-21', 1732, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Bg5,e6,Nf3,Bb4,Bxf6,Qxf6,Ne5,O-O,Bd3,g6,O-O,Nd7,Nb5,Nxe5,dxe5,Qxe5,c3,Bd6,f4,Qe3+,Rf2,Bxf4,g3,Bxg3,hxg3,Qxg3+,Kf1,e5,Nd6,Bh3+,Ke1,Qe3+,Be2,Rad8,Qxd5,Bg4,Rd1,Bxe2,Rxe2,Qg3+,Kd2,Qf4+,Kc2,h5,Kb1,h4,Qxb7', 'Rxd6,Rxd6,Qf1+,Kc2,Qxe2+', 'https://lichess.org/training/GK8G2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKbw5', 'Rapid', 'dredik', 2276, 'Patt68', 2139, 'e4,e5,Nf3,f5,d4,fxe4,Nxe5,Nf6,Bg5,d6,Nc4,Be7,Ne3,c6,c4', 'Qa5+,Nc3,Qxg5', 'https://lichess.org/training/GKbw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gkbx5', 'Rapid', 'Sakiskaki', 1831, 'Einsten007', 1918, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Nbd2,Bf5,Nb3,Nb4,Nbxd4,Bg6,Qa4+,c6,a3,Na6,Nxc6,Qd7,Qb5,Qxc6,Qxc6+,bxc6,Bf4,Ne7,e3,c5,e6,f6,Be2,Be4,O-O,g5,Bg3,Nf5,Nd2,Bc6,Bd3,Nxg3,fxg3,Be7,Bf5,Nc7,e4,Rd8,Rfd1,Rd4,b3,O-O,Nf3,Rxe4', 'Bxe4,Bxe4,Rd7', 'https://lichess.org/training/gkbx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GkBzP', 'Rapid', 'Mr_Roma_Mounir', 1878, 'KamPit-146', 1896, 'Nf3,d5,d4,Nf6,Nbd2,Bf5,g3,e6,Bg2,Bd6,O-O,O-O,Nh4,Bg6,Nxg6,hxg6,e4,dxe4,Nxe4,Nxe4,Bxe4,Nc6,Bxc6,bxc6,Qf3,c5,dxc5,Bxc5,Be3,Bxe3,Qxe3,Qf6,c3,Rfd8,Qc5,Rd6,Qxc7,Rd2,Qb7,Rad8,Qxa7,Rxb2,c4,Rdd2,c5', 'Rxf2,Qa8+,Kh7', 'https://lichess.org/training/GkBzP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gkcFV', 'Rapid', 'morteza4169', 1858, 'drnorm', 1780, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Bb4+,c3,dxc3,O-O,cxb2,Bxb2,f6,a3,Bc5,Nh4,d6', 'Qh5+,g6,Nxg6', 'https://lichess.org/training/gkcFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKCw0', 'Rapid', 'junken', 1980, 'nesa_sarda', 1944, 'd4,g6,Bf4,Bg7,Qd2,e6,Nc3,d5,Nf3,Ne7,h4,Nd7,h5,Nf6,hxg6,fxg6,Bh6,Bxh6,Qxh6,b6,Qg7,Rf8,Ng5', 'Nf5,Qxf8+,Kxf8', 'https://lichess.org/training/GKCw0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GkCyW', 'Rapid', 'Bhaladmi123', 1686, 'GDMM1414', 1702, 'e4,c5,Nf3,d6,d4,Nf6,dxc5,Nxe4,cxd6,Qxd6,Qxd6,Nxd6,Nc3,g6,a3,Bg7,Bd2,O-O,Rb1,Bg4,Be2,Bxf3,Bxf3,Nc4,Bc1,Nc6,Bxc6,bxc6,O-O,Rad8,Ne4,Rd4,Ng3,Rfd8,b3,Nd2,Bxd2,Rxd2,Rfe1,e6,c4,Bd4,Ne4,Ra2,a4,f5,Nf6+,Bxf6,Rxe6,Bd4,Rxc6,Rxf2,Kh1,Rb2,Rxb2,Bxb2,g3,Rb8,Ra6,Bd4,Rd6,Be3,Rd3,Bc5,Kg2,h5,Kf3,g5,h4,g4+,Kf4,Rf8,Rd5,Bb4,Rxf5,Kh7', 'Rxf8,Bxf8,Kg5,Bd6,Kxh5,Bxg3,Kxg4', 'https://lichess.org/training/GkCyW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gkDoq', 'Rapid', 'Etimayben', 2004, 'soukahras41', 2013, 'd4,d5,Nf3,Nf6,Bg5,e6,e3,c5,c3,Nc6,Bd3,cxd4,exd4,Be7,O-O,O-O,Re1,a5,Nbd2,Re8,Ne5,Nxe5,dxe5,Nd7,Bf6,gxf6,Bxh7+,Kxh7,Qh5+,Kg7,Re3,Rg8', 'Rg3+,Kf8,Qh6+,Ke8,Rxg8+', 'https://lichess.org/training/gkDoq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKE16', 'Blitz', 'flipfloper', 2100, 'AdmGeneralAladeen', 2091, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,a6,Be2,b5,a3,Bb7,O-O,e6,Re1,Be7,Bg5,Nbd7,Qd2,O-O,Rad1,Rad8,Bd3,h6,Bxh6,gxh6,Qxh6,Rfe8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/GKE16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GkeQZ', 'Rapid', 'anon_amous', 1801, 'Brygmeister', 1847, 'c4,e5,Nc3,Nf6,g3,d5,d3,d4,Ne4,Nxe4,dxe4,Nc6,Bg2,h5,Nf3,Be7,e3,h4,exd4,exd4,Bf4,h3,Bf1,g5,Bd2,g4,Ng1,Be6,Bf4,Qd7,Rc1,O-O-O,Ne2,Bb4+,Bd2,f5,Nf4,Bxd2+,Qxd2,Ne5,Be2,Bf7,Nd5,c6,Qf4,cxd5', 'cxd5+,Kb8,Qxe5+', 'https://lichess.org/training/GkeQZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKfSQ', 'Rapid', 'TimJones72', 1924, 'AACtrl', 1955, 'e4,d6,d4,g6,f4,d5,e5,h5,Nf3,Bg4,Be2,e6,h3,Bxf3,Bxf3,Ne7,O-O,Nf5,c4,c6,Qb3,Qc7,Rd1,dxc4,Qxc4,Na6,Nc3,O-O-O,Ne4,Nxd4', 'Rxd4,Rxd4,Qxd4', 'https://lichess.org/training/GKfSQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKh87', 'Blitz', 'Mehdi_azizi1990', 1665, 'concorde', 1518, 'e4,e5,Bc4,c6,Qh5,Qe7,Nf3,Nf6,Qxe5,Qxe5,Nxe5,Nxe4,Bxf7+,Ke7,Bb3,d6,Nf7,Rg8,d3,Nc5,Bg5+,Ke8,Nxd6+,Bxd6,Bxg8,h6,Bd2,Nbd7,Bh7,Nf6,Bg6+,Kf8,O-O,Ng4,h3,Ne5,Bh5,Bf5,d4,g6,dxc5,Bxc5,Bxh6+,Kf7,Be2,Rh8,Bg5,Bd6,f4,Bc5+,Kh1,Bxh3,fxe5+', 'Bf5+,Bh6,Rxh6+,Bh5,Rxh5#', 'https://lichess.org/training/GKh87');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKhHs', 'Rapid', 'Patrizsche', 2077, 'ToweBR', 1966, 'd4,d5,Bf4,e6,Nf3,c5,e3,Qb6,b3,Nc6,c3,cxd4,exd4,Nf6,Be2,Bd7,h3,Rc8,O-O,Be7,Nbd2,O-O,Rc1,Na5,Ne5,Qd8,Bd3,Qb6,Bg5,Bb5,c4,dxc4,bxc4,Be8,c5,Qb4,Ne4,Nd5,Qh5,g6,Qg4,Nc6,Nxc6,Bxc6,Bxe7,Nxe7,Nf6+,Kg7,Qg5,Qxd4,Nh5+,Kg8,Nf6+,Kg7,Ng4,Nf5,Bxf5,exf5,Rfd1,Qb2,Rc2,Qxc2', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/GKhHs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKht3', 'Rapid', 'arasanpune', 2182, 'AngryDragon1009', 2111, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Bg5,e6,Nf3,Bb4,Bd3,dxc4,Bxc4,Qa5,Qc2,Nxd4,Nxd4,Qxg5', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/GKht3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gkHvs', 'Rapid', 'intoflatearth', 1791, 'Begmuhammet92', 1765, 'e4,d5,exd5,Qxd5,Nf3,Nf6,c4,Qa5,Nc3,c6,Be2,Bg4,O-O,e6,Qb3,Qc7,d4,Bxf3,Bxf3,Bd6,h3,Nbd7,Bg5,O-O,Rad1,h6,Bh4,g5,c5,Bf4,Bg3,Bxg3,fxg3,Qxg3,Ne2,Qc7,Qd3,Nd5,Be4,N7f6,Ng3,Nxe4,Nxe4,Nf4,Nf6+,Kg7,Qh7+,Kxf6,Qxh6+,Kf5,g4+,Ke4,Rfe1+,Kf3,Re5,Rh8', 'Rf1+,Kg3,Re3#', 'https://lichess.org/training/gkHvs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gkJi7', 'Classical', 'msony007', 1810, 'Paky', 1874, 'd4,d5,e3,c5,Nf3,cxd4,exd4,Bf5,Bb5+,Nc6,Ne5,Bd7,Nxd7,Qxd7,O-O,e6,Bf4,Nf6,Nd2,a6,Bxc6,bxc6,Be5,Be7,Nb3,O-O,Nc5,Bxc5,Bxf6,Be7,Bxe7,Qxe7,f4,c5,c3,Rab8,b3,cxd4,Qxd4,Rfc8,Rac1,Qc5,Qxc5,Rxc5,f5,Rbc8,fxe6,fxe6,Rfe1,Kf7,Rf1+,Ke7,Rf3,d4,c4,e5,Rd3,Rd8,Rcd1,Rc6,Kf2,Rcd6,Kf3,Re6,Ke4,Rf8,R1d2,Rf4+,Kd5,Rd6+,Kxe5,g5,Rxd4', 'Re6+,Kd5,Rf5#', 'https://lichess.org/training/gkJi7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GkKGi', 'Rapid', 'DrMadKakashi', 2059, 'glg1873', 2056, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,Nf6,Bc4,e6,O-O,Bb4,e5,Ng4,Re1,Qb6,Ne4,Bxe1', 'Nd6+,Kf8,Qxe1', 'https://lichess.org/training/GkKGi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gkKpX', 'Rapid', 'darkness1382', 2035, 'mur123', 2095, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bg5,e6,e3,Be7,Bd3,O-O,Nge2,a6,Qc2,b5,Bxf6,Bxf6,Bxh7+,Kh8,Bd3,Nd7,h4,g6,h5,g5,f4,Bb7,fxg5,Bxg5,O-O-O,Rc8,a3,a5,Bxb5,Nf6,Bd3,Qb6,Kb1,Ba6,Bg6,Bxe3,g4,Nxg4,Rdg1,Nh6,Rg3,Bxe2,Rxe3,Bg4,Bd3,Qxd4,Qd2,Qf4,Rf1,Qg5,Be2,Bf5+,Ka2,Rfd8,Qd4+,Kh7,Re5,f6,Rg1,fxe5', 'Qa7+,Kh8,Rxg5', 'https://lichess.org/training/gkKpX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gkLfZ', 'Rapid', 'isbc', 2281, 'Separator45', 2034, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Qxd5,O-O,Nc6,d4,O-O-O,c3,e6,Qa4,h6,Nbd2,g5,Nc4,b5,Qa6+,Kd7,Nce5+,Nxe5,Nxe5+,Ke8,Qxa7,Bd6,Be3', 'Ra8,Qxa8+,Qxa8', 'https://lichess.org/training/gkLfZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gkll4', 'Classical', 'Hydra25', 1661, 'tokuchi17', 1644, 'e4,c5,Nf3,Nc6,Bc4,d6,h3,e6,a3,Nf6,Nc3,Be7,O-O,b6,d4,cxd4,Nxd4,Bb7,Bb5,Rc8,Bg5,O-O,f4,h6,Bh4,a6,Ba4,b5,Bb3,Nxd4,Qxd4,d5,exd5', 'Bc5,Qxc5,Rxc5', 'https://lichess.org/training/gkll4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gKoGy', 'Rapid', 'attagol', 1861, 'bs13', 1795, 'e4,c5,Bc4,Nc6,a3,e6,Nc3,d5,exd5,exd5,Nxd5,Nf6,Nc3,Nd4,d3,a6,Nge2,b5,Ba2,Bb7,O-O,Be7,Nxd4,Qxd4,Be3,Qh4,f3,Bd6,g3,Qh3,Qe2,O-O,Qg2,Qh5,Ne4,Nxe4,fxe4,Kh8,Rf5,Qg6,Bxc5,Qxf5,exf5', 'Bxc5+,Kf1,Bxg2+', 'https://lichess.org/training/gKoGy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKOOK', 'Rapid', 'Er_Yasart', 1957, 'a23med', 2008, 'e4,d5,Nc3,dxe4,Nxe4,Nc6,Nf3,Bf5,Ng3,Bg6,Bb5,Qd5,Bxc6+,Qxc6,O-O,Qxc2,d4,Qxd1,Rxd1,e6,Be3,Nf6,Rac1,c6,Ne5,Be7,Nxg6,hxg6,h3,O-O,a4,Nd5,Ne4,Rfd8,Kf1,Rd7,Ke2,Rad8,g3,Nf6,f3,Nd5,Bf2,a6,Nc3,Bf6,Ne4,Be7,Nc3,Bg5,f4,Be7,Kf3,Bf6,Ne4,Be7,g4,f5,Nc3,Bb4,Bh4,Re8,Re1,Kf7,Bf2,Bxc3,bxc3,Nf6,Red1,Ne4,Be1,g5,Rb1,gxf4,Kxf4,g5+,Kf3,Kg6,Rb6,c5,d5,Kf7', 'dxe6+,Rxe6,Rxd7+', 'https://lichess.org/training/GKOOK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gkPlg', 'Rapid', 'WilfriedBurundi', 2004, 'Bogi62', 2121, 'e4,e6,Nf3,c5,Nc3,a6,d4,cxd4,Nxd4,Qc7,Be3,Nf6,Bd3,Nc6,a3,b5,Nxc6,Qxc6,f3,b4,axb4,Bxb4,Qd2,O-O,Bd4,Ne8,O-O,Nc7,Qg5,f6,Qh5,e5,Be3,Bxc3,bxc3,g6,Qh4,d5,Qg3,Rf7,Qe1,a5,Qd2,Be6,Rfb1,a4,Rb6,Qd7,Bc5,Rc8,Rd6,Qe8,Qe3,Rd7,Bb4,Rxd6,Bxd6,Nb5,Bxb5,Qxb5,Bb4,Qc6,Qa7,dxe4,fxe4,Qxe4,Qf2,Ra8,Qxf6,Bf5,Bd6,Re8,Bc7,Qc4', 'Bxe5,Rxe5,Qxe5', 'https://lichess.org/training/gkPlg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gKqMr', 'Classical', 'Frep6', 1856, 'TamerDobal', 1839, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,Ng4,Bf4,d5,Bb5,Nxf2,Kxf2,Bc5,Nxd4,O-O,Bxc6,bxc6,Re1', 'Qh4+,g3,Qxh2+', 'https://lichess.org/training/gKqMr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gKqzA', 'Rapid', 'makissidiras', 1844, 'Snaiper9999', 1823, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,h6,c3,Bg4,h3,Bh5,d4,exd4,cxd4,Qf6,Be3,Bxf3,Qxf3,Qxf3,gxf3,Nf6,Rg1,O-O-O,Bxf7,Nb4,Kd2,Kb8,a3,Nc6,b4,a6,d5', 'Ne5,Ke2,Nxf7', 'https://lichess.org/training/gKqzA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gKsgn', 'Blitz', 'amur_golyani', 1671, 'doronwis', 1689, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,Bb4,a3,Ba5,b4,Bc7,Qg4,g6,Bb2,h5,Qf3,Be5,Bc4,Bb7,O-O-O,Qc7,Na4,Bxb2+,Nxb2,Ne7,Qf6,Rf8,Nd3,Ng8,Qg5,Ne7,Ne5,f6,Qxg6+,Nxg6,Nxg6,Rf7,Nh8,Qe5,Nxf7,Kxf7,Rxd7+,Kg6,Rxb7,Qa1+,Kd2,Qxh1,Bxe6,Qxg2', 'Bf5+,Kg5,Rg7+,Kf4,Rxg2', 'https://lichess.org/training/gKsgn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKTQX', 'Classical', 'robobaggins', 1892, 'Rodripay', 1986, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,O-O,O-O,d3,d6,h3,Be6,Bxe6,fxe6,Bg5,d5,Qe2,Nd4,Nxd4,exd4,Na4,Be7,e5,Nd7,Bxe7,Qxe7,b3,Rf5,f4,Raf8,g3,Qf7,b4,Qg6,Kh2,h5,Nc5,Nxc5,bxc5,Qf7,Rab1,g5,Rf3,gxf4,Rg1,fxg3+,Rfxg3+,Kh8,Kh1,Rf2,Qd1,h4,Rg6,Rf3', 'Rh6+,Qh7,Rxh7+', 'https://lichess.org/training/GKTQX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GkuIk', 'Classical', 'Sauce24', 1922, 'heyfilho', 1734, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,f4,h6,Bh4,b5,Qf3,Bb7,a3,Qc7,O-O-O,e6,Bd3,Nc5,Bxf6,gxf6,Be2,f5,Qh3,fxe4,b4,Nd3+,Bxd3,Qxc3', 'Bxb5+,axb5,Qxc3', 'https://lichess.org/training/GkuIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GkunS', 'Blitz', 'T307', 1679, 'mans777', 1654, 'e4,e5,Nf3,d5,Nxe5,dxe4,d4,exd3,Qxd3,Qe7,Qe2,Be6,Bf4,Nf6,Nc3,Nh5,Bg3,Nxg3,hxg3,g6,O-O-O,Bg7,Qb5+,Nc6,Qxb7,O-O,Nxc6,Qg5+,f4,Qxg3,Qxc7,Rac8,Ne7+,Kh8,Nxc8,Rxc8,Qd6,Qe3+,Qd2,Qc5,Qd6,Qe3+,Kb1,Bxc3,bxc3,Qxc3,Rd3', 'Qxc2+,Ka1,Qxa2#', 'https://lichess.org/training/GkunS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKuWE', 'Blitz', 'uchogimenez', 1715, 'TuxoHaTpacce', 1753, 'e4,e6,c4,d5,cxd5,exd5,exd5,Qxd5,Nf3,Bb4,Nc3,Bxc3,bxc3,Nf6,d4,Bg4,Be2,Ne4,Bd2,Nxd2,Qxd2,O-O,O-O,Nc6,Rab1,b6,Qg5,Qf5,Qh4,Rfe8,Rb5,Qg6,Rg5,Qe4,Bd1,Bxf3,Qh6,Bxg2,Rxg2,g6,Qh3,Re6,Bf3,Qd3,d5,Re5,dxc6,Rae8,Bg4', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/GKuWE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKv3a', 'Blitz', 'balboa_constrictor', 2222, 'lordnigel', 2283, 'e4,Nc6,Bb5,e5,Nf3,a6,Ba4,b5,Bb3,Nf6,d3,d6,c3,Be7,Nbd2,O-O,Nf1,h6,h3,Bb7,Ng3,Na5,Bc2,c5,O-O,Qc7,Re1,Rad8,Qe2,Rfe8,Nf5,Bc8,Nxe7+,Rxe7,Be3,Nc6,Rac1,Bb7,Bb3,Na5,Bc2,d5,exd5,Nxd5,Bd2,Rde8,Bb1,c4,dxc4,Nxc4,Qd3,Nxd2', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/GKv3a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GKYem', 'Rapid', 'Nicholas04', 1761, 'leibek', 1750, 'f4,g6,Nf3,Bg7,Nc3,e6,b3,Ne7,Bb2,O-O,e3,c6,Be2,d5,d3,Nd7,O-O,Nb6,Qc1,Nf5,Nd1,d4,exd4,Nxd4,Nxd4,Bxd4+,Kh1,Qf6,Rb1,Nd5,c4,Bxb2,Rxb2,Ne7,Ne3,Nf5,Ng4,Qd4,Bf3,h5,Ne5,Kg7,Be4,f6,Nf3,Qe3,Bxf5,Qxc1,Rxc1,exf5,Re1,b6,Re7+,Rf7,Rbe2,a5,Nd4,c5,Nc6,Bb7', 'Rxf7+,Kxf7,Re7+,Kf8,Rxb7', 'https://lichess.org/training/GKYem');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GkZlx', 'Rapid', 'tammino', 1659, 'madmar', 1634, 'e4,e6,Nf3,d5,exd5,exd5,h3,Bd6,Bb5+,c6,Ba4,Ne7,O-O,O-O,d3,Qc7,Nc3,a5,a3,Na6,Bg5,Nc5,Bb3,Nxb3,cxb3,h6,Bd2,Bf5,d4,Ng6,Re1,Rfe8,Na2,Re4,Rxe4,Bxe4,Nc3,Bf5,Qe1,Qd7,Be3,Re8,Qd2,Kh7,Na4,Bc7,Nc5,Qc8,b4,b6,Nd3,Bxd3,Qxd3,Qa8,bxa5,Qxa5,Bd2,Qa4,b3,Qa7,a4,c5,dxc5,bxc5,Qb5,Rd8,Qd3,Qb7,a5,c4,bxc4,dxc4,Qxc4,Ne5,Qc2+,g6,Nxe5,Bxe5,Rb1', 'Rxd2,Rxb7,Rxc2', 'https://lichess.org/training/GkZlx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gKzuZ', 'Rapid', 'Captain_Black65', 2050, 'Arkkeo', 1847, 'd4,b6,c4,Bb7,Nc3,e6,Bf4,d6,e3,Be7,Nf3,Qd7,Bd3,Nc6,a3,a6,Qc2,Nf6,e4,h6,e5,Nh5,Bg3,Nxg3,hxg3,dxe5,dxe5,Nd4,Nxd4,Qxd4,O-O-O,O-O-O,f4,Qe3+,Rd2,Qxg3,Rf1,Bxg2,Rg1,Qxf4,Rxg2,g5,c5,Bxc5,Bxa6+,Kb8,Kb1,Ka7,Qa4,Qxa4,Nxa4,Kxa6,Rc2,Rd5,b4,Rd1+,Ka2,Bd4,Rxc7,Ra1+,Kb3,Rd1,Rgc2,g4,Kc4,b5+,Kb3,bxa4+,Kxa4,Rb8', 'R2c6+,Rb6,b5#', 'https://lichess.org/training/gKzuZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GL1fK', 'Rapid', 'Ponch69', 1740, 'Inaniel', 1738, 'd4,Nf6,Nc3,e6,e4,Bb4,Bd3,Bxc3+,bxc3,d6,Bd2,e5,Nf3,Ng4,O-O,Qf6,h3,Nh6,Bg5,Qg6,Qd2,f6,Nh4,Qxg5,Qxg5,fxg5,Nf3,Nf7,Nd2,O-O,Bc4,g4,hxg4,Bxg4,f3,Bd7,f4,b5,Bb3,Kh8,Rf3,Nh6,f5,Nc6,Bd5,Rab8,Raf1,exd4,Bxc6,Bxc6,cxd4,a5,f6,g5,Rg3,Nf7,Kf2,h5,Rh1,h4,Ke3,Kg8,Rg4,b4,Nf3,a4,Nxg5,Nxg5,Rxg5+,Kf7,Rxh4,Kxf6,Rf5+,Ke7,Rh7+,Ke8', 'Rxf8+,Kxf8,Rh8+,Ke7,Rxb8', 'https://lichess.org/training/GL1fK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gL1Oq', 'Rapid', 'lucasalex', 1865, 'Natali1224', 1817, 'e4,c5,Nf3,Nc6,Nc3,e6,g4,d6,h4,a6,d3,e5,Rg1,Be7,g5,g6,Nd5,Be6,Nxe7,Ngxe7,c3,b5,a4,b4,c4,b3,Qxb3,Rb8,Qc3,Qd7,b3,O-O,Be2,Rb7,Nh2,Nd4,Rb1,Rfb8,Bg4,Bxg4,Nxg4,Nf3+,Kf1,Nxg1', 'Nf6+,Kg7,Nxd7', 'https://lichess.org/training/gL1Oq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GL3CG', 'Blitz', 'luis2345genial', 2166, 'Sirob2020', 1841, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Nc3,O-O,h3,d6,O-O,h6,Be3,Bb6,d4,exd4,Nxd4,Ne5,Bb3,Bd7,f4,Nc6,Kh1,Re8,Nxc6,Bxc6,Bxb6,axb6,e5,Qc8,exf6', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/GL3CG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gl3M1', 'Rapid', 'Doldi', 1944, 'abdullah_ali', 2171, 'g3,d5,Bg2,e5,d3,Nc6,Nf3,Bf5,O-O,Bd6,Nbd2,Nf6,Re1,O-O,e4,dxe4,dxe4,Bg4,h3,Bxf3,Nxf3,h6,Bd2,Re8,Bc3,Qe7,Qe2,a6,a3,Bc5,b4,Bd4,Nxd4,exd4,Bb2,Rad8,Rad1,Qe6,Kh2,Qa2,c4,d3,Rxd3', 'Rxd3,Qxd3,Qxb2', 'https://lichess.org/training/Gl3M1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GL46p', 'Rapid', 'Gump22', 1801, 'prKLLL', 1994, 'e4,e5,f4,exf4,Nf3,d5,exd5,Nf6,d4,Nxd5,Bc4,Bb4+,c3,Be7,Bxd5,Qxd5,Bxf4', 'Qe4+,Qe2,Qxf4', 'https://lichess.org/training/GL46p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gL6Pb', 'Rapid', 'Sunsetter', 2373, 'struggleandart', 2278, 'd4,d5,Bf4,Nf6,e3,c5,Nd2,Nc6,c3,e6,Ngf3,cxd4,exd4,Bd6,Bg3,O-O,Ne5,Qc7,Nxc6,bxc6,Bd3,Re8,O-O,e5,dxe5,Bxe5,Qc2,Bb7,Nf3,Bf4,Bh4,Ne4,Rfe1,c5,c4,f5,Bg3,d4,Nd2,Bxg3,hxg3,Qc6,Nf3,Re6,b4,Rf8,b5,Qe8,Nh4,g6,Re2,f4,Rae1,fxg3,fxg3,Ng5,Rxe6,Nxe6,Be4,Ng5', 'Bd5+,Bxd5,Rxe8', 'https://lichess.org/training/gL6Pb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GL6vp', 'Rapid', 'montonson', 1667, 'mitroglou', 1612, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Nf3,Nc6,h3,a6,Qc2,b5,e4,dxe4,Nxe4,Nxe4', 'Qxc6+,Bd7,Qxe4', 'https://lichess.org/training/GL6vp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gl7e3', 'Rapid', 'Steinbron', 1971, 'pawner85729', 1931, 'e3,e5,d4,exd4,exd4,d5,Nf3,Nf6,g3,Bg4,Bg2,Be7,O-O,O-O,Re1,Re8,Be3,Nbd7,c4,c6,a4,dxc4,Qc2,Nd5,Qxc4,N7f6,Nc3,Nxc3,bxc3,Qd5,Ne5,Qxc4,Nxc4,Nd5,Na5,Rab8,Bxd5,cxd5,Bf4,Rbc8,Nxb7,Rxc3', 'Nd6,Rf8,Rxe7', 'https://lichess.org/training/Gl7e3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GL8s2', 'Classical', 'Giperbola', 1975, 'IMADI0077', 2045, 'd4,Nf6,c4,c5,d5,d6,Nc3,g6,Nf3,Bg7,Bg5,O-O,e3,Qa5,Bd3,Nxd5,cxd5,Bxc3+,bxc3,Qxc3+,Kf1,f6,Bh6,Rf7,Rc1,Qa3,Qc2,Kh8,g3,Bh3+,Ke2,Nd7,Qb3,Qxb3,axb3,Bg4,h3,Bxf3+,Kxf3,Ne5+,Ke2,a6,e4,b5,Bd2,Nxd3,Kxd3,f5,f3,fxe4+,fxe4,Raf8,Rce1,Rf3+,Re3,Rf2,Rhe1,Rh2,h4,Rff2,R1e2', 'c4+,bxc4,bxc4+,Kd4,Rxe2,Rxe2,Rxe2', 'https://lichess.org/training/GL8s2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GL9my', 'Rapid', 'mustang2050', 1883, 'Q8888', 1869, 'e4,e5,Bc4,Nf6,Nc3,Nc6,a3,a5,Nf3,Nxe4,Nxe4,d5,Bb5,dxe4,Nxe5,Bd7,Nxf7,Kxf7,Bc4+,Be6,Bxe6+,Kxe6,O-O,Kd7,Qg4+,Ke8,Re1,g6,Rxe4+,Be7,d3,Qd7,Qe2,Nd4,Qe1,Nxc2,Bg5,Nxe1,Raxe1,Kf8,Rxe7,Qxd3', 'Bh6+,Kg8,Rg7+', 'https://lichess.org/training/GL9my');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('glaAp', 'Blitz', 'NM Chesspirate_Channel', 2392, 'NM chessiah', 2452, 'd4,c6,e4,d5,e5,Bf5,g4,Bd7,h4,h5,g5,Bf5,Ne2,Bg4,Qd3,g6,Ng3,e6,f3,Bf5,Nxf5,exf5,c4,Na6,a3,dxc4,Qxc4,Nc7,Nc3,Ne7,f4,Qd7,Bg2,Rd8,Be3,Ned5,Nxd5,Nxd5,Bxd5,Qxd5,Qxd5,Rxd5,Ke2,Kd7,b4,Be7,Rhd1,Bd8,Rac1,Bb6,Kd3,Rd8,Kc4,Ke6,a4,a6,Rd3,Ba7,a5,Rb5,Kb3,Rdd5,Rc4,Bb8,Rdc3,Bc7,Rxc6+,bxc6,Rxc6+,Kd7,Rxa6,Rb7,Kc4,Rdb5,Bd2,Bd8', 'Rd6+,Kc7,a6,Rb8,a7,Ra8,Kxb5', 'https://lichess.org/training/glaAp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('glaQc', 'Blitz', 'IM sherlock1888', 2503, 'FM AhmetEfekanAlaz', 2414, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nc6,Bf4,a6,e3,Nf6,Bd3,e6,Nf3,Be7,h3,O-O,O-O,b5,Rc1,Bb7,a4,b4,Nb1,Rc8,Nbd2,Qb6,Qe2,Nh5,Bh2,Nf6,Nb3,Na5,Nfd2,Ne4,Bxe4,dxe4,Nxa5,Qxa5,Nc4,Qd8,b3,Rc6,Rc2,Qd5,Rfc1,a5,Nxa5', 'Rxc2,Rxc2,Qxa5', 'https://lichess.org/training/glaQc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('glDMm', 'Blitz', 'Wintersar', 2055, 'GMKris', 1866, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Nf3,b6,g3,Bb7,Bg2,d6,O-O,Nbd7,a3,Bxc3,Qxc3,Re8,b4,Ne4,Qc2,f5,Bb2,Ndf6,e3,g5,Rfd1,Qc8,c5,bxc5,dxc5,Bd5,cxd6,cxd6,Qxc8,Raxc8,Bxf6,Nxf6,Nxg5,Bxg2,Kxg2,Rc2,Rxd6,Ng4,Rxe6,Rxe6,Nxe6,Rxf2+,Kg1,Rxh2,Rd1,Kf7,Nf4,Ra2,Rd7+,Kf6,Rxa7,Nxe3,b5,Nc4,a4,Kg5,Nd5,Kg4,Rg7+,Kf3,b6,Rxa4,b7,Ra1+,Kh2,Rb1,Rxh7,Ne5,Nf6,Kf2,Re7', 'Nf3+,Kh3,Rh1#', 'https://lichess.org/training/glDMm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLDQZ', 'Rapid', 'titidu18', 1844, 'orchys53', 1778, 'c4,e6,d3,d5,cxd5,exd5,a3,Nf6,e3,Bd6,Nf3,O-O,b4,Nc6,Bb2,Re8,Be2,Ne5,Nbd2,c6,Rc1,Bf5,Qb3,Neg4,Nd4,Bd7,N2f3,Rc8,h3,Nxe3,fxe3,Rxe3,O-O,Bg3,Nc2,Rxe2,Bxf6,Qxf6,Nfd4,Bf2+,Kh1,Re5,Nf3,Rh5,Rxf2,Bxh3,gxh3,Rxh3+,Kg1,Rxf3,Rcf1,Qg6+,Rg2,Qxd3', 'Rxf3,Qxb3,Rxb3', 'https://lichess.org/training/gLDQZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLdzc', 'Rapid', 'Erathesthenos', 1849, 'Loefgren66', 1785, 'd4,Nf6,c4,e5,dxe5,Ne4,Nf3,b6,Qc2,Bb7,Nc3,Nc5,Bg5,Be7,Bxe7,Qxe7,Nd5,Qd8,e3,Nc6,b4,Ne6,Bd3,Ne7,Nxe7,Qxe7,Be4,Qxb4+,Nd2,O-O-O,O-O,Nc5,Rab1,Qa5,Nb3', 'Bxe4,Qxe4,Nxe4', 'https://lichess.org/training/gLdzc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('glFWK', 'Rapid', 'SirBigBanana', 1610, 'eminkul', 1638, 'e4,c5,c4,d6,Nc3,Nc6,d3,g6,Bg5,Bg7,Be2,a6,a4,Rb8,Qc1,Nd4,Bd1,b5,axb5,axb5,Nf3,b4,Nxd4,bxc3,Nc6,cxb2,Qxb2,Bxb2,Nxd8,Bxa1,Nc6,Rb1,O-O,Bc3,Na7,Bb7', 'Ba4+,Kd8,Rxb1', 'https://lichess.org/training/glFWK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLGLH', 'Rapid', 'cobraabro', 1966, 'momo_klaus', 2011, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,Qb3,Nh6,d4,Na5,Qa4,Nxc4,Bxh6,Nb6,Qb5,gxh6,Qxe5,O-O,h4,Bf6,Qh5,Bg7,Rh3,d6,Rg3,Kh8,Nbd2,Nd7,Ng5,hxg5,hxg5,Nf6,Qh4,Ng8,O-O-O,f6,Rh1,h6,gxh6,Bxh6', 'Qxh6+,Nxh6,Rxh6#', 'https://lichess.org/training/gLGLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLGUX', 'Rapid', 'GuillaumePley', 1618, 'keshavplayingchess', 1669, 'd4,Nf6,Bf4,Nc6,Nf3,d5,e3,a6,Nbd2,Bg4,c4,e6,cxd5,exd5,Qa4,b5,Qc2,Bd7,a3,Nh5,Bg5,Be7,Bxe7,Qxe7,Bd3,Nf6,O-O,h6,Bf5,Bxf5', 'Qxc6+,Qd7,Qxa8+', 'https://lichess.org/training/gLGUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('glHla', 'Blitz', 'fresno90', 1853, 'Wahmat', 1752, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,c3,h6,d4,d6,Re1,Bg4,d5,Na5,Bd3,b6,Nbd2,Nb7,b4,a5,h3,Bh5,g4,Bg6,Nh4,Bh7,Nf5,O-O,Nf3,axb4,cxb4,Rc8,N3h4,Nxe4,Nxe7+,Qxe7,Nf5,Bxf5,gxf5,Ng5,Qg4,e4,Bxg5,hxg5,Bxe4,Qf6,Bg2,Nd8,a4,c6,a5,cxd5,Bxd5,Nc6,Bxc6,Rxc6,a6,b5,a7,Ra8,Qe4,Rcc8,Ra5,Qh6,Rea1,Qxh3,Rxb5,g4,Rb8,g3,Rxa8', 'Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/glHla');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('glJ1b', 'Blitz', 'amirkhan22', 1798, 'k0k0s0v', 1797, 'd4,Nf6,Bf4,g6,Nf3,d6,e3,Bg7,Bd3,O-O,Nbd2,Nbd7,Bg3,c5,c3,a6,O-O,b5,a3,c4,Bc2,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Qe7,Bg3,Bb7,Nf3,Rad8,Qe2,Nh5,Rad1,Nxg3,hxg3,Qf6,Rd4,Rxd4,Nxd4,Qe5,f3,Re8,e4,Qc5,Kh2,Bxd4,cxd4,Qxd4,Rd1,Qxb2,Rd7,Ba8,f4,Qxa3,e5,Qa2,Ra7,b4,Qd2,b3,Qd7,Rf8,e6,Qxc2,Rxa8,Rxa8,Qxf7+,Kh8,Qf6+,Kg8,Qf7+,Kh8,g4,Qe4,e7,b2', 'Qf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/glJ1b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GLJs3', 'Blitz', 'Jake41', 2280, 'OLOVO64', 2322, 'e4,c6,f4,d5,e5,h5,d4,Bg4,Be2,Bxe2,Nxe2,Nh6,O-O,e6,c4,Nf5,Nbc3,Nd7,Ng3,Nxg3,hxg3,dxc4,f5,exf5,Rxf5,g6,Rf2,Be7,Ne4,Nxe5,Bg5,Nd3,Nf6+,Kf8,Qd2,Qxd4', 'Bh6+,Rxh6,Qxh6#', 'https://lichess.org/training/GLJs3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('glkEy', 'Blitz', 'sacemoglu', 1780, 'ramarioo', 1781, 'e4,Nc6,Nf3,e5,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Bb5,Qh4,O-O,Nge7,Nc3,O-O,h3,d6,Na4,Qxe4,Nxb6,axb6,Re1,Qf5,Bxc6,Nxc6,Nd4,Nxd4,Qxd4,Qxc2,Qb4,Qg6,Kh2,Be6,Re3,Bd7,Bd2,Bc6,Rg3,Qe4,Qc3,f6,Bh6,Rf7,Re1,Qd5,a3,g6,Qe3,Qe5,Qd2,Qh5,Qe3,g5,Bxg5,Kh8,Bh6,Rg8', 'Rxg8+,Kxg8,Qe8+,Bxe8,Rxe8+,Rf8,Rxf8#', 'https://lichess.org/training/glkEy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLkg1', 'Rapid', 'Kb_007', 1878, 'Tobonga', 1890, 'd4,Nf6,Nf3,d5,c4,e6,Nc3,c5,e3,cxd4,Nxd4,e5,Nc2,Be6,cxd5,Nxd5,Bb5+,Nc6,Qf3,Bb4,e4,Nxc3,bxc3,Qb6', 'Bxc6+,Qxc6,Nxb4', 'https://lichess.org/training/gLkg1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GlL0s', 'Blitz', 'FM Cortador', 2419, 'GM UnVieuxMonsieur', 2668, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,Bb4,Qc2,O-O,Nd5,Be7,Nxe7+,Qxe7,d3,d6,Be2,Bf5,Nd2,e4,d4,Nb4,Qb3,Nd3+,Bxd3,exd3,Qc3,a5,b3,b5,Bb2,b4,Qc1,Bg4,d5,Be2,a3,Ne4,Nxe4,Qxe4,f3,Bxf3,gxf3,Qxf3,Rf1', 'Qe2#', 'https://lichess.org/training/GlL0s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLlHT', 'Classical', 'jesus-T', 1740, 'ZodiacBravo', 1715, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Nxe4,Re1,d5,d3,Nf6,Nxe5,Nxe5,Rxe5+,Be7,Bg5,O-O,Bxf6,Bxf6,Rxd5,Qe7,c3,Bb7,Rf5,Rfe8,Nd2,Rad8,d4,g6,Rc5,c6,Nf3,Qc7,Qd2,Be7,Re5,c5,Ng5,c4,Qf4,Bxg5', 'Rxe8+,Rxe8,Qxc7', 'https://lichess.org/training/gLlHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GLMxG', 'Blitz', 'Alexandercher', 1780, 'arti2008', 1771, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,d6,Nxd4,Nxd4,Qxd4,Be7,f4,Be6,Bxe6,fxe6,e5,Nd5,c4,dxe5,Qxe5,Bf6,Qxe6+,Ne7,Nc3,Qd6,Qxd6,cxd6,Nb5,O-O,Nxd6,Bd4+,Kh1,b6,Nb5,Bc5,Bd2,Rfd8,Rad1,Nf5,Nc7,Rd6,Nxa8', 'Ng3+,hxg3,Rh6#', 'https://lichess.org/training/GLMxG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Glnyz', 'Rapid', 'AlejandroMtz', 1697, 'erratum', 1666, 'd4,d6,Bf4,c5,e3,cxd4,exd4,Nc6,c3,Nf6,Bd3,g6,Nf3,Qb6,Qb3,Nd7,Bb5,a6,Ng5,Nd8', 'Bxd7+,Bxd7,Qxb6', 'https://lichess.org/training/Glnyz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLOQL', 'Classical', 'Robert_Sosnowski', 1609, 'Avithe', 1638, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bb4+,Bd2,Bc5,Bg5,Nf6,c3,dxc3,Bxf7+,Kxf7,Bxf6,Qxf6,Qd5+,Qe6', 'Ng5+,Kg6,Nxe6,dxe6,Qxc5,cxb2,Qc3,bxa1=R,Qxa1', 'https://lichess.org/training/gLOQL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('glpJH', 'Blitz', 'jrrubistein', 2087, 'hhornung', 2166, 'e4,e5,Nc3,Nf6,f4,d5,fxe5,Nxe4,Nf3,Be7,Qe2,Bf5,Qb5+,Nc6,Qxb7,Nb4,Bb5+,c6,Bxc6+,Nxc6,Qxc6+,Bd7,Qxd5,Nxc3,bxc3,O-O,O-O,Rc8,Kh1,Qc7,Rb1,Bc6,Qd4,Rfd8,Qf4,f6,d4,Bxf3,Qxf3,fxe5,Rb7,Qc4,Rxe7,Rf8,Rxe5', 'Qxf1+,Qxf1,Rxf1#', 'https://lichess.org/training/glpJH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Glpr4', 'Rapid', 'KAGER69', 1621, 'ocian', 1795, 'd4,d5,c4,Bg4,Nc3,c6,h3,Bh5,Nf3,e6,e3,Bb4,a3,Ba5,b4,Bc7,Be2,Nd7,O-O,Bxf3,Bxf3,f5,cxd5,exd5,Bh5+,g6,Be2,Ngf6,a4,Ne4,Qc2,Ndf6,f3,Ng3,f4,Nxf1,Kxf1,Ne4,Nxe4,fxe4,Qc5,Bd6,Qc3,O-O,b5,Rc8,Ba3,cxb5,Qb2,bxa4,Bxd6,Qxd6,Qxb7,Rc7,Qb5,g5,g3,gxf4,gxf4,Rg7,Rxa4,Qe6,Bg4,Qd6,Ra6,Qc7,Qxd5+,Kh8,Qxe4', 'Qc4+,Kf2,Qxa6', 'https://lichess.org/training/Glpr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('glpts', 'Blitz', 'bence11', 1708, 'WhatDoIEnterHere', 1710, 'd4,Nf6,Bg5,e6,e3,Be7,Nc3,b6,Bd3,Bb7,e4,d6,f4,Nbd7,Nf3,O-O,Qe2,h6,Bh4,c5,e5,dxe5,dxe5,Nd5,Bxe7,Qxe7,Be4,Nxf4,Qd2,Bxe4,Nxe4,Nd5,O-O-O,Rad8,Qe2,Nf4,Qf2,Ng6,g4,Ndxe5,h4,Rxd1+,Rxd1,Nxg4,Qg3,Nf6,Nd6,Rd8,Ng5,hxg5,hxg5,Nh5,Qh2,Nhf4,Rh1,Rxd6', 'Qh7+,Kf8,Qh8+,Nxh8,Rxh8#', 'https://lichess.org/training/glpts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GlRPI', 'Rapid', 'Gabi_2004', 1958, 'MisterGC', 1849, 'b3,Nf6,Bb2,g6,e3,Bg7,d4,d5,Bd3,O-O,Nf3,c5,Nbd2,Nc6,O-O,cxd4,Nxd4,Qd6,N2f3,Nb4,c4,Nxd3,Qxd3,e5,Nb5,Qc6,Nxe5,Bf5,Qxf5,gxf5,Nxc6,bxc6,Nd4,c5,Nxf5,Rad8,Nxg7,Kxg7,g4,Kg6,Kh1,Nxg4,h3,Nf6,Rg1+,Kf5,cxd5,Rxd5,h4,Ne4,f3,Nf2+,Kg2,Rd2,e4+,Kf4,Bc1,Nxe4+,Bxd2+,Nxd2,Rad1,Nxf3,Rgf1,Rg8+,Kh1,Ke3,Rd7,Nxh4,Rdxf7,Rg3,Kh2,Rf3,R1xf3+,Nxf3+,Kg3,Nd2,Rxh7,Kd3,Rxa7,Kc3,Rc7,Kb4,Kf4,c4,Rb7+,Kc3,b4,Kb2,a4,c3,Rc7,c2,a5,Kb3,a6', 'Nc4,a7,c1=Q+', 'https://lichess.org/training/GlRPI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GLRVG', 'Blitz', 'ekok1984', 2412, 'IM Jomajo', 2596, 'f4,g5,fxg5,h6,d4,hxg5,Bxg5,Bh6,Qd2,d5,Nc3,Nc6,O-O-O,Bf5,Nf3,Nb4,Ne1,Qd7,a3,a5,h3,Bxg5,Qxg5,Bg6,e3,Nf6,Nd3,Ne4,Nxe4,dxe4,Ne5,Qe6,Nxg6,fxg6,d5,Qb6,d6,Na2+,Kd2,Qxd6+,Ke1,Qe6,Bb5+,c6,Be2,O-O,Qc5,b5,Bg4,Qf6,Rd7,Rf7,h4', 'Qf2+,Kd1,Qxg2', 'https://lichess.org/training/GLRVG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLsS5', 'Blitz', 'Art1980v', 2054, 'CapaBobby', 2113, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bb4,O-O,d6,d3,O-O,h3,Be6,Bb3,Nd4,Nxd4,exd4,Ne2,c5,f4,b5,f5,Bxb3,axb3,Ba5,Bg5,Bc7,Nf4,h6,Bxf6,Qxf6,Nd5,Qd8,Qg4,f6,Rf3,Rf7,Rg3,Qd7,Qg6,Kh8,Rf1,Ba5,Rf2,Be1,Rf4,Bxg3,Qxg3,Rg8,Rg4,a5,Nf4,Rc8,Rh4,c4,Qg6,cxd3,cxd3,Rc1+,Kh2,Rc2,Rxh6+,gxh6', 'Qxh6+,Kg8,Ng6,Rxg2+,Kxg2,Rg7,Qh8+,Kf7,Qf8#', 'https://lichess.org/training/gLsS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GlSV6', 'Blitz', 'lug-59', 2430, 'IM medinapaz', 2406, 'e4,e6,Qe2,d5,exd5,Nf6,dxe6,Bxe6,Nf3,Nc6,c3,Qd5,d4,O-O-O,Be3,Bf5,Qb5,Qd7,Bd3,Nd5,Bxf5,Qxf5,O-O', 'Nxe3,Qxf5+,Nxf5', 'https://lichess.org/training/GlSV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gltEQ', 'Rapid', 'stulee1974', 1815, 'usted1957', 1763, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Nxc3,bxc3,Bf5,Bd3,Bxd3,Qxd3,Nc6,Rb1,Rb8,d5,Ne5,Qb5+,c6,dxc6,Nxc6,Bf4,a6', 'Qxc6+,bxc6,Rxb8', 'https://lichess.org/training/gltEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLttP', 'Rapid', 'armax', 2002, 'Rodenbach', 2025, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,d4,Nxd5,c4,Nf6,Nf3,Nc6,d5,Nd8,O-O,e6,Ne5,Qc8,Re1,Be7,dxe6,Nxe6,Nc3,O-O,Qf3,c6,Bf4,Nxf4,Qxf4,Bb4,Re3,Bc5,Rg3,Nh5,Qg5,Nxg3,Qxg3,Qf5,Ng4,Rfe8', 'Nh6+,Kh8,Nxf5', 'https://lichess.org/training/gLttP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Glttv', 'Blitz', 'KateNicole', 2001, 'Mengkay_Jacobo', 2072, 'd4,d5,e3,Nf6,Bd3,c5,c3,Nc6,f4,Bg4,Nf3,e6,Nbd2,a6,O-O,Bd6,Qe1,Bxf3,Nxf3,O-O,Ne5,Ne4,Rf3,f5,Rh3,Bxe5,fxe5,Ne7,Qh4,h6,Qh5,Qe8,Qf3,b5,Bxe4,dxe4,Qg3,Kh7,Bd2,Nd5,Rf1,a5,a3,Qe7,Qe1,Rab8,Kh1,b4,c4,Nb6,axb4,Nxc4,bxc5,Rxb2,Bxa5,Qg5,Rg3,Qh5,Bc7,Ra8,Bd6,Raa2,Rg1,Re2,Qb1,Nxe3,Qb7,Ng4,h3,Qh4,Bf8,Qg5,hxg4', 'Qh4+,Rh3,Qxh3+,gxh3,Rh2#', 'https://lichess.org/training/Glttv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('glWDm', 'Blitz', 'Hassanalali', 1607, 'StochasticPenguin', 1563, 'e4,c5,Bc4,d6,Qh5,Be6,Bxe6,g6,Bxf7+,Kxf7,Qf3+,Kg7,e5,e6,Qxb7+,Nd7,Nf3,dxe5,Nxe5,Nf6,Nxd7,Nxd7,O-O,Bd6,d3,Rf8,Be3,Rb8,Qxa7,Qh4,g3,Qe7,Bg5,Qe8,b3,h6,Bf4,Bxf4,gxf4,Rxf4,Nc3,Kg8,Ne4,Nb6,Nd6,Rg4+,Kh1,Qc6+,Ne4,Rf8,Qe7,Qd5,Qd6,Qh5,Qxb6,Qh3,Rg1', 'Qf3+,Rg2,Qxg2#', 'https://lichess.org/training/glWDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GLWev', 'Blitz', 'NM OjaiJoao', 2404, 'NM Horobetz', 2433, 'd4,d5,c4,e6,Nc3,Be7,Nf3,Nf6,Bg5,h6,Bh4,O-O,e3,Nbd7,Rc1,a6,c5,Ne4,Bg3,Nxg3,hxg3,c6,Bd3,e5,Be2,Bf6,O-O,e4,Nd2,Re8,Bg4,Nf8,b4,g6,a4,h5,Bxc8,Qxc8,b5,axb5,axb5,Ne6,Na4,Qd8,Nb6,Ra2,bxc6,bxc6,Rc2,Rxc2,Qxc2,h4,Ra1,hxg3,fxg3,Bg5,Nf1,Qf6,Qf2,Qg7,Ra7,Bd8,Nc8,Nxd4,exd4,Bf6,Ra8,Bxd4,Ne3,Bxe3,Qxe3,Kh7,Nb6', 'Rxa8,Nxa8,Qa1+', 'https://lichess.org/training/GLWev');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLWua', 'Rapid', 'skanirudh', 1728, 'Izyamen', 1721, 'd4,c6,c4,d5,e3,Nf6,Nf3,Bg4,Be2,e6,cxd5,Nxd5,Nc3,Bb4,Bd2,O-O,Nxd5,Bxd2+,Qxd2,Qxd5,Rc1,Nd7,b3,h5,O-O,g5,e4,Qxe4,Qxg5+,Kh7,Rfe1,Rg8,Qe7,Bxf3,Bxf3', 'Qxf3', 'https://lichess.org/training/gLWua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLyGF', 'Rapid', 'Onyx_Zgz', 1719, 'NguyenPhan', 1838, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,a6,a4,Rb8,Nc3,d6,O-O,Be7,Bf4,Nf6,d4,cxd4,Nxd4,Qc7,Nxc6,Qxc6,Qe2,Bd7,e5,dxe5,Bxe5,Rc8,Rfd1', 'Qxc4,Qxc4,Rxc4', 'https://lichess.org/training/gLyGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gLyOS', 'Rapid', 'WickedRooster', 1935, 'ccasallas', 1859, 'e4,e5,Nf3,Nc6,Nc3,Nf6,g3,Bc5,Nh4,d6,d3,Ng4,Be3,Bxe3,fxe3,Nxe3,Qe2,Nxf1,Rxf1,Nd4,Qd2,Bg4,Nd5,O-O,c3,c6,Nf6+,gxf6,cxd4,Bh3,Rf2,Kh8,Nf5,Rg8,O-O-O,c5,d5,c4,dxc4,Rc8,b3,b5,Nh6,Rg7,Qe2,bxc4,bxc4,Qa5,Qh5,Qa3+,Rb2,Rxc4+,Kb1,Rb4,Rd2,Rxb2+,Rxb2,Qd3+,Rc2,Qb5+,Kc1,Qf1+,Kb2,Qb5+,Ka1,Qd3,Rc8+,Bxc8,Nxf7+,Kg8,Nh6+,Kh8', 'Qe8+,Rg8,Qxg8#', 'https://lichess.org/training/gLyOS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Glz7j', 'Blitz', 'ilmarsigliese', 2154, 'CM MLev0907', 2325, 'c4,Nf6,g3,e6,Bg2,d5,Nf3,Be7,O-O,O-O,d3,c5,Nc3,Nc6,cxd5,exd5,e4,dxe4,dxe4,Nd4,Be3,Ne6,e5,Nd7,Nd5,b6,Nxe7+,Qxe7,Nh4,Rb8,Nf5,Qd8,f4,Bb7,Bxb7,Rxb7,Nd6,Rc7,Qf3,c4,Rad1,Ndc5,Qg4,Rd7,Nf5,g6,Bxc5,Nxc5,Nh6+,Kg7,f5,Rd3,f6+,Kh8,Nf5,Ne6,Nd6,Qc7,Rxd3,cxd3,Qc4,Qxc4,Nxc4,Nc5,Rd1,Kg8,b4,Na6,a3,Nc7,Rxd3,Ne6,Rd7,Rd8,Rxd8+,Nxd8,Nd6,Nc6,Nc8,Nxe5,Nxa7,Nc4,a4,Kf8,a5,bxa5,b5,a4,Nc6,a3,Nb4,Ke8,Kf2,Kd7,Ke2,Kd6,Kd3,Kc5,Na2,Kxb5,Nc3+,Kb4,Na2+,Kb3,Nc1+,Kb2,Kxc4,Kxc1,Kb3,Kd2,Kxa3,Ke2', 'Kb4,Kf2,Kc5', 'https://lichess.org/training/Glz7j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GM3fE', 'Rapid', 'jgabarini', 1849, 'FerranSolis', 1963, 'c4,c5,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,cxd4,Nxd4,Nc6,Nc3,a6,a3,e5,Nc2,Re8,Bg5,h6,Bxf6,Bxf6,Ne4,Bg7,Nd6,Re6,c5,Ne7,Ne3,Qc7,Rc1,Rb8,b4,b5,Qd2,Bf8,Bh3,f5,Qb2,Nc6,Nd5,Qd8,e4,Bxd6,exf5,gxf5,cxd6,Rxd6,Rfd1,Nd4,Qa2,Kg7,Rxd4,exd4,Bxf5,Qg5,Qb1,Rxd5,Be4,Re5', 'f4,Qf6,fxe5', 'https://lichess.org/training/GM3fE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gM6pN', 'Classical', 'christianlaing', 1620, 'alexxx93Black', 1789, 'c4,e5,Nc3,Bc5,g3,Nc6,Bg2,d6,e3,f5,Nge2,Bd7,O-O,Nf6,a3,Qe7,b4,Bb6,Bb2,Rf8,Nb5,a6,Nbc3,g5,Kh1,Nh5,Nd5,Qf7,Nxb6,cxb6,Bd5,Be6,Nc3,Bxd5+,Nxd5,b5,Nc7+,Qxc7,Qxh5+,Qf7,Qxg5,Rg8,Qh6,Rg6,Qh3,bxc4,Qg2,e4,f3,d5,fxe4,dxe4,g4,Rd8,Rxf5', 'Qxf5,gxf5,Rxg2,Kxg2,Rxd2+', 'https://lichess.org/training/gM6pN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gm8gq', 'Blitz', 'Chessplayer1541', 1622, 'MisterDidi27000', 1640, 'e4,c5,e5,e6,Nf3,Nc6,Nc3,Nge7,Ne4,Nf5,g4,Nfd4,d3,Nxf3+,Qxf3,Nxe5,Qf4,f6,g5,Be7,gxf6,gxf6,Qh4,f5,Qh5+,Nf7,Ng5,Bxg5,Bxg5,Qa5+,c3,d5,Bf6,Rf8,Qxh7,Bd7,Bg7,d4,Bxf8,dxc3,Bg7,c2+,Ke2,O-O-O,Bf6,Rf8,Bc3,Qb5,Qg7,Rd8,Qxf7,Bc6,Rg1', 'Qxd3+,Ke1,Qd1+,Rxd1,cxd1=Q#', 'https://lichess.org/training/Gm8gq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gMABQ', 'Classical', 'MS1981', 1711, 'clausovitsch', 1695, 'd4,d5,Nf3,Bg4,Ne5,Bh5,g4,Bg6,Bg5,f6,Nxg6,hxg6,Qd3,Kf7,Bf4,Rh4,Rg1,g5,Nc3,gxf4,g5,c6,gxf6,exf6,Qg6+,Ke7,O-O-O,Qe8,e4,Qxg6,Rxg6,Kf7,Rg1,Ne7,exd5,Nxd5,Bc4,Rh5,Rg4,g5', 'Nxd5,cxd5,Bxd5+,Kg6,Bxb7', 'https://lichess.org/training/gMABQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gMB3H', 'Rapid', 'Galmonte', 1858, 'jjanobre', 1631, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,Bd7,Nc3,Nf6,Be2,g6,O-O,Bg7,Bg5,O-O,Re1,a6,Rc1,Rc8,h3,Qb6,Qd2,e6,e5,dxe5,dxe5,Nd5,Nxd5,exd5,Bf6,Be6,Bd3,Nd4,Nxd4,Qxd4,Bxg7,Kxg7,Qe2,Qf4,Rxc8,Rxc8,Qe3,Qb4,Re2,d4,Qf3,Bxa2,Qf6+,Kg8,e6,Rc1+,Kh2,Qd6+,g3,Bxe6,Re4,Qd5,Qxd4,Qxd4,Rxd4,Rd1,g4,f5,Kg3,fxg4,hxg4,h5,gxh5,gxh5', 'Bh7+,Kxh7,Rxd1', 'https://lichess.org/training/gMB3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gmd2T', 'Rapid', 'Demarshal', 1902, 'EvgeniyZarutskiy', 1874, 'e4,g6,d4,Bg7,c3,h6,Bc4,d6,Nf3,e6,O-O,Ne7,e5,O-O,Bf4,Kh7,Nbd2,f5,exf6,Rxf6,Bg3,Rf8,Re1,d5,Bd3,Nbc6,Ne5,Nxe5,Bxe5,Bd7,Nf3,a6,Bxg7,Kxg7,Ne5,Be8,Qg4,Nf5,Nxg6,Bxg6,Rxe6,Rf6', 'Bxf5,Rxe6,Bxe6', 'https://lichess.org/training/gmd2T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gMD85', 'Rapid', 'Ruchiro', 1841, 'Michael_C_Price', 1975, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Bd7,Bg5,Nc6,Qd1,h6,Bh4,g5,Bg3,Bg7,Nc3,Bxc3+,bxc3,Nf6,Bc4,Qc7,O-O,Be6,Bb3,O-O-O,Nd4,Bxb3,cxb3,Nxe4', 'Qg4+,Qd7,Qxe4', 'https://lichess.org/training/gMD85');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GmDkj', 'Rapid', 'Jacky_tchang', 1640, 'masoodmahdizadehh', 1659, 'e4,e5,Nf3,Nc6,c3,d6,Be2,Nf6,d3,h6,O-O,Nh5,d4,Nf4,Bxf4,exf4,d5,Ne5,Nd4,Bd7,Nd2,h5,g3,Qg5,N2f3,Nxf3+,Nxf3,Qg6,Kg2,Be7,Qd4,h4,Bd3,h3+,Kh1,Qh5,Be2,Bf6,e5,dxe5,Qd1,e4,Nd4,f3,Bb5,O-O-O,Bxd7+,Rxd7,c4,Re8,Re1,Bxd4,Qxd4,f5,Qxa7,c6,Qa8+,Kc7,Qxe8,Qxe8,Rad1,cxd5,cxd5,Rd6,Rc1+,Kb6,Red1,Qb5,Rc3,Qxb2,Rb3+,Qxb3,axb3,Kc5,Kg1,g5,Kf1,g4,Ke1,Kb4,Kd2,Rxd5+,Kc2,Rc5+,Kb2,b5', 'Rd4+,Rc4,bxc4', 'https://lichess.org/training/GmDkj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GMdPe', 'Rapid', 'elias_13', 1779, 'ViktorSergushkin', 1750, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Qf3,Bc5,Nxc6,Qxf3,gxf3,dxc6,Be3,Bd6,Nd2,Be6,Bd4,f6,Bc4,Bxc4,Nxc4,O-O-O,O-O-O,Ne7,Bxa7,b6,Nxd6+,Rxd6,Rxd6,cxd6,Bxb6,Ng6,Be3,Kd7,Kd2,Ra8,a3,Ne5,Rg1', 'Nxf3+,Ke2,Nxg1+', 'https://lichess.org/training/GMdPe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gmdUm', 'Blitz', 'Ute-Manfred', 2567, 'FM sandi_s', 2413, 'e4,d6,d4,Nf6,Nc3,g6,Be3,Bg7,Qd2,O-O,Nf3,Bg4,O-O-O,Nc6,d5,Ne5,Be2,Nxf3,gxf3,Bh3,Rhg1,c6,Rg3,Bd7,f4,cxd5,e5,dxe5', 'fxe5,Ne4,Nxe4', 'https://lichess.org/training/gmdUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GMDuW', 'Rapid', 'alberto2', 1715, 'isidorotegi', 1928, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Bd3,Nc6,O-O,Bg4,c3,e6,Re1,Be7,Bg5,O-O,Nbd2,Rc8,Nf1,h6,Bxf6,Bxf6,h3,Bxf3,Qxf3,Qb6,b3,Qa5,Ng3,Qxc3', 'Bh7+,Kxh7,Qxc3', 'https://lichess.org/training/GMDuW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gME3K', 'Rapid', 'T971', 1947, 'elaijsa', 1922, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,a5,d3,Nf6,h3,d6,Bb3,b6,Nbd2,Ba6,Nf1,Be7,Ng3,O-O,Nh4,Nxe4,Nxe4,Bxh4,Qg4,Bf6,Bxh6,Bxd3,Ng5,Bg6,Ne6,fxe6,Qxg6,Kh8,Bxe6,Ne7', 'Bxg7+,Bxg7,Qh5+,Bh6,Qxh6#', 'https://lichess.org/training/gME3K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GMefM', 'Blitz', 'SlickMick', 2318, 'tadeusznogawka', 2510, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Nb3,O-O,Be2,a5,a4,Nb4,O-O,d5,exd5,Nfxd5,Nxd5,Nxd5,Bd4,e5,Bc5,Nf4,Bxf8,Qxf8,Bf3,Bf5,Qd2,Rd8,Qxa5,Bxc2,Nc5,Rc8,Ne4,f5,Nc3,e4,Bd1,Bd3,Bb3+,Kh8,Rfe1,Bd4,Rad1,Qe7,Nd5,Qh4,Nxf4,Bxf2+,Kh1,Qxf4,Qb4,Bxe1', 'Qd4+,Qe5,Qxe5#', 'https://lichess.org/training/GMefM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gmeQZ', 'Blitz', 'kumon1986', 2001, 'torridesttube69', 1996, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,O-O,d6,c3,dxc3,Nxc3,Bg4,Qb3,Qd7,Ng5,Ne5,Qxb7,Rc8,Bb5,c6,Qxd7+,Kxd7,Ba6,Rf8,Na4,Bd4,Bf4,h6,Bxe5,Bxe5,Nf3,Bxf3,gxf3,f5,Rfd1,Nf6,Nc5+,Ke7,Nd3,fxe4,Nxe5,dxe5,fxe4,Nxe4,Re1,Nxf2,Rxe5+,Kd6,Rae1,Nh3+,Kh1,Ng5,Re7,Rf2,Rxa7,Rxb2,Ree7,Rf8', 'Rad7+,Kc5,Re5+,Kb6,Rb7+,Kxa6,Rxb2', 'https://lichess.org/training/gmeQZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GMeZh', 'Rapid', 'SuicideByPawn', 1617, 'I_Charge_by_foot', 1630, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Be2,Nf6,f3,e5,Bg5,Be7,Nc3,O-O,Qd2,Re8,a3,h6,Be3,Bf8,O-O,Rb8,b4,Qc7,Na2,d5,exd5,cxd5,Rac1,Be6,Nc3,d4,Nb5,dxe3,Nxc7,exd2,Rcd1,Rbc8,Nxe8,Nxe8,Rxd2,Bc4,Bxc4,Rxc4,Rc1,Rc3,a4,Bxb4,Rd5,Bd6,a5,f6,Rb5,Rc5,Rxc5,Bxc5+,Kf1,Bb4,a6,Kf7,Rd1,Nd6,Rd5,Ke6,Rd3,Bc5,Rc3,Kd5,Ke2,e4,h3,f5,Rb3,Bb6', 'Rxb6,axb6,a7', 'https://lichess.org/training/GMeZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gMfwN', 'Classical', 'alee82', 1682, 'trediraz', 1674, 'e4,e5,Bc4,Nf6,Nc3,Bc5,h3,O-O,Qf3,d6,Be2,Nc6,d3,Nd4,Qg3,Nxc2+,Kd1,Nxa1,Bh6,Ne8,Kc1,Kh8,Kb1,gxh6,Kxa1,Rg8,Qf3,Be6,g3,Nf6,Nd1,d5,Ne3,dxe4,dxe4,Bxe3,Qxe3,Bc4,Nf3,Bxe2,Qxe2,Qd6,Nh4,Qd7,Qf3,Qc6,Re1,Rad8,Nf5,Rd4,Nxd4,exd4,Qf4,Rg6,e5,d3,exf6,Rxf6,Qd2,Qc5,Re3,Rxf2,Re8+,Kg7,Qd1,d2,Qg4+,Qg5,Qd4+,Rf6,Re2,Qxg3,Rxd2,Qxh3,a3,Kg6,Qe4+,Qf5,Rg2+,Kh5,Qe2+,Qf3,Qe5+,Rf5', 'Qh2+,Qh3,Qxh3#', 'https://lichess.org/training/gMfwN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GmIcZ', 'Rapid', 'Felechosa', 1659, 'Maris-S', 1683, 'd4,d5,c4,dxc4,e4,e5,d5,Qd6,Bxc4,Qg6,Qf3,Nf6,Nc3,Bb4,Bd2,Bg4,Qg3,Bxc3,Bxc3,Qxe4+,Be2,Bxe2,Nxe2,Nbd7,Qxg7,Rg8,Qh6,Rxg2,Qe3,Qxe3,fxe3,Nxd5,Kd2,O-O-O,Rae1,Nc5,Bxe5,Ne4+,Kd3,f5,Bg3,Nb4+,Kc4,Nxa2,Kb3,Rd2,Kxa2,Rdxe2,Rxe2,Rxe2,Bf4,a5,Rc1,c6,Ka3,Rd2,Rg1,Nf6,Rg5,Rd5,Rg7,Rd3+,Ka4,Nd5,Bg5,Nxe3,Rxh7,Rd4+,Kxa5,Nc4+,Kb4,Nxb2+,Kc3,Rg4,h4,Na4+,Kb3,b5,Rf7,Rg3+,Kb4,Rf3,h5,Rg3,Bf4,Rh3,h6,Kd8,Bg5+,Ke8,Rxf5,Nb2,Kc5,Kd7,Rf7+,Ke6,Rf6+,Ke5,Kxc6,Rg3,Rg6,Kf5,Rg7,Rxg5', 'Rxg5+,Kxg5,h7', 'https://lichess.org/training/GmIcZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GMJdI', 'Blitz', 'pacochesscebr', 1742, 'xMasterYodax', 1765, 'c4,d5,cxd5,Nf6,Nc3,Nxd5,e4,Nxc3,bxc3,Nc6,Nf3,e5,Be2,Bg4,O-O,Bc5,Bb2,O-O,d4,exd4,Nxd4,Bxd4,Bxg4,Bf6,f4,Be7,Qf3,Re8,Rad1,Qb8,Qg3,Na5,Rd3,Nc4,Ba1,c6,Rfd1,Bd6,e5,Bc7,Bf5,f6,e6,Bxf4,Qh4,h6,Rd7,Ne3,R1d4,Nxf5,Qg4,Be3+,Kh1,Bxd4,Qxf5,Qe5,Qg6,Qg5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/GMJdI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GML2A', 'Rapid', 'criss12', 1918, 'juwwealla', 1893, 'd4,d5,e3,Nf6,c4,c6,Nc3,Bf5,cxd5,cxd5,Nf3,Nbd7,Bb5,e6,Ne5,Bd6,Nxd7,Nxd7,O-O,O-O,f3,e5,e4,dxe4,fxe4,Bg6,Bxd7,Qxd7,dxe5,Bc5+,Kh1,Qc6,Qd5,Bxe4', 'Qxe4,Qxe4,Nxe4', 'https://lichess.org/training/GML2A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gMlHd', 'Rapid', 'Drinking_Beer', 1729, 'seif22', 1891, 'e4,e6,d3,c5,Nd2,Nc6,Ngf3,b6,g3,Bb7,Bg2,Nf6,O-O,Qc7,Re1,e5,Nc4,b5,Ncd2,h6,Nf1,g5,c3,Be7,d4,cxd4,cxd4,exd4,Nxd4,Nxd4,Qxd4,O-O-O,Qxa7', 'Bc5,Qxc5,Qxc5', 'https://lichess.org/training/gMlHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gmlkm', 'Blitz', 'Valemolto', 1734, 'A99a', 1734, 'd4,e5,dxe5,Nc6,Nf3,Nge7,Bf4,Ng6,Bg3,Be7,e3,O-O,h3,d6,exd6,Bxd6,Bxd6,cxd6,Bd3,Be6,O-O,Qe7,c3,Rad8,Nd4,Nce5,Nxe6,fxe6,Be2,d5,Nd2,Qg5,Nf3,Nxf3+,Bxf3,Ne5,Bg4,g6,Bxe6+,Kh8,Qd4,h5,Bxd5', 'Rxd5,Qxd5,Nf3+,Qxf3,Rxf3', 'https://lichess.org/training/Gmlkm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gMMhU', 'Blitz', 'DP_BP', 1612, 'Brahim888', 1647, 'e4,g6,d4,Bg7,e5,Nc6,Bb5,a6,Bxc6,bxc6,Nf3,Bb7,O-O,d6,Bf4,dxe5,Bxe5,Bxe5,Nxe5,f6,Ng4,Qd7,Re1,O-O-O,c3,h5,Ne3,Nh6,Nd2,f5,Ndc4,f4,Ne5,Qe6,N3c4,c5,Nd3,Qxc4,Nxc5,Nf5,Nxb7,Kxb7,Re5,Rd5,Qf3,c6,Re6,g5,Rae1,Rh6,Rxh6,Nxh6,Rxe7+,Kb6,Qxh5,Qxa2,h3,Nf5,Qe8,Nxe7', 'Qb8+,Ka5,Qb4#', 'https://lichess.org/training/gMMhU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GmMYT', 'Rapid', 'furkankrky', 1748, 'ReRoiatti', 1726, 'e4,d6,d4,Nf6,f3,c5,c3,cxd4,cxd4,Nc6,d5,Ne5,Nc3,e6,Bc4,a6,Bb3,Bd7,Nh3,Rc8,Ng5,h6,dxe6,fxe6,Nxe6,Bxe6,Bxe6,Rc7,Nd5,Nxd5,Qxd5,Be7,f4,Rc5,Qb3,Rb5,Qg3', 'Bh4,O-O,Bxg3', 'https://lichess.org/training/GmMYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GmN7l', 'Blitz', 'FM A-Mo-A', 2358, 'Kasparovna', 2253, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Nf3,Nc6,Bg5,Ne4,Bf4,e6,e3,Bb4,Qb3,Qa5,Rc1,O-O,Bd3,Nxc3,bxc3,Ba3,Rc2,Be7,O-O,Bd7,c4,dxc4,Rxc4,Qd8,Rfc1,Na5,Bc7', 'Nxb3,Bxd8,Nxc1', 'https://lichess.org/training/GmN7l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gmOCU', 'Rapid', 'trokhy', 1773, 'SickoMode420', 1847, 'd4,e6,e4,d5,e5,Nc6,Nf3,Nce7,Bg5,h6,Bh4,g5,Bg3,Ng6,h4,g4,h5,gxf3,hxg6,fxg6,Qxf3,Bd7,Bd3,Ne7,Qf6,Rg8,Rh4,Bg7', 'Bxg6+,Nxg6,Qxg6+', 'https://lichess.org/training/gmOCU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gmoMT', 'Rapid', 'abdo9292', 1674, 'sanadkazo', 1677, 'e4,e5,Nf3,d6,c3,Nf6,d3,Nc6,Nbd2,Be7,d4,exd4,cxd4,Bg4,d5,Nd4,Be2,Nxe2,Qxe2,O-O,h3,Bh5,g4,Bg6,Nh4,Nxd5', 'Nxg6,hxg6,exd5', 'https://lichess.org/training/gmoMT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GMOqk', 'Blitz', 'Play2FastAndLose', 2143, 'FM Nebula64', 2522, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,c5,Nge2,Nbd7,Qd2,a6,O-O-O,b5,g4,bxc4,h4,h5,gxh5,Nxh5,dxc5,Ne5,Ng1,Qa5,cxd6,exd6,Qxd6,Ng3,Rd5,Nxf1,Rxa5,Nd3+,Kb1,Nxe3,Nge2,Be6,h5,Rfb8,b3,Rd8,Qh2,cxb3,axb3,Rab8,Ra3,Bxb3,hxg6,Ba2+,Kxa2', 'Rb2+,Ka1,Nc2#', 'https://lichess.org/training/GMOqk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GmPgw', 'Rapid', 'insidesomeone', 1691, 'juanfran97', 1680, 'd4,g6,Nc3,Bg7,e4,d6,Bf4,Nf6,e5,dxe5,dxe5,Qxd1+,Rxd1,Nfd7,Nf3,O-O,Nb5,Nc6,Nxc7,Rb8,e6,fxe6,Nxe6,Rf6,Bxb8,Rxe6+,Be2,Ncxb8,Ng5,Re5,Nf3,Rc5,c3,Ne5', 'Rd8+,Bf8,Nxe5,Rxe5,Rxc8', 'https://lichess.org/training/GmPgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GMsUM', 'Blitz', 'NM esrosenberg', 2187, 'vidanvidan', 2226, 'Nf3,d6,e4,Bg4,Bc4,c6,Bxf7+,Kd7,Ne5+,dxe5,Qxg4+,Kc7,Bxg8,Rxg8,Qe6,Rh8,Qxe5+,Qd6,Qc3,Nd7,d4,e6,Nd2,Qf4,O-O,a5,a3,Be7,Re1,Rhf8,Nf3,Qg4,h3,Qg6,Kh1,Rf7,d5,Raf8,Qxa5+,Kb8,Be3,Rxf3,gxf3,Qh5,Qa7+,Kc8,Kg2,exd5,f4,Bh4,exd5,Qxd5+,f3,Rf6,Rf1', 'Rg6+,Kh2,Bg3+', 'https://lichess.org/training/GMsUM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GmTbk', 'Blitz', 'nyszab', 1832, 'OmarGK', 1874, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Nf6,d5,exd5,exd5,Bb4,Bc4,Bxc3+,bxc3,Qe7+,Be3,O-O,O-O,h6,Re1,Qd6,Qd2,Bxd5,Bxd5,Qxd5,Nd4,Nc6,Bxh6,Nxd4,Bxg7,Kxg7,Re3,Rfe8,Rg3+,Kf8,Qh6+,Ke7,Re1+,Kd8,Qxf6+,Kc8,Rxe8+,Kb7,Rxa8', 'Ne2+,Kf1,Qd1#', 'https://lichess.org/training/GmTbk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gmtF1', 'Bullet', 'Sankukai', 2213, 'MrkiOsvetnik', 1952, 'd4,g6,Bf4,Bg7,e3,d6,c3,Nf6,Nf3,O-O,h3,Nbd7,Nbd2,c5,Be2,b6,O-O,Bb7,Bh2,d5,a4,a6,Bd3,c4,Bc2,b5,axb5,axb5,Qe2,h6,e4,dxe4,Nxe4,Nd5,Rfe1,Re8,Rxa8,Qxa8,Nd6,Rf8,Nxb7,Qxb7,Be4,e6,Ra1,N7f6,Bc2,Ra8,Qd1,g5,Be5,Nf4,Bxf4,gxf4,Ne5,Rxa1,Qxa1,Nd5,Nf3,b4,Qa5,bxc3,bxc3,Qb2,Qd8+,Bf8,Bh7+,Kg7,Ne5,Qxc3,Qe8,Qa1+,Kh2,Qa7,Nd7,Qa3,Be4,c3,Bxd5,c2,Bxe6,fxe6,Qxe6,c1=Q,Qf6+,Kg8,Qg6+,Bg7', 'Nf6+,Kh8,Qh7#', 'https://lichess.org/training/gmtF1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gMtTV', 'Rapid', 'teacheralexanderr', 2017, 'tqd0306', 1905, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,h6,d3,Bg4,O-O,Qd7,fxe5,Nxe5,Nxe5,dxe5,Qe1,Nf6,Nc3,O-O-O,Be3,Bb4,a3,Ba5,b4,Bb6,a4,Bd4,b5,h5,Rb1,h4,Nd5,Nxd5,Bxd5,f5,h3,fxe4,Bxe4,Bxh3,gxh3,Qxh3,Bg2,Bxe3+,Rf2,Bxf2+,Qxf2,Qg3,Qxa7,h3,Qxb7+,Kd7,Qc6+,Ke7,Qxc7+,Rd7,Qc5+,Ke8,Qc8+,Rd8', 'Qe6+,Kf8,Rf1+', 'https://lichess.org/training/gMtTV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gMU4S', 'Rapid', 'rooooks', 1825, 'Chewbacca_Defense', 1913, 'd4,d5,Nc3,Nf6,Bf4,c5,e3,Bf5,Nb5,Na6,dxc5,e6,b4,Be7,Nd6+,Bxd6,Bxd6,Nxb4,Bb5+,Nd7,c4,Nc2+,Ke2,Nxa1,Qxa1,a6', 'Qxg7,axb5,Qxh8+', 'https://lichess.org/training/gMU4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GMv4f', 'Rapid', 'MaRvain', 1838, 'euphrates07', 2014, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nf3,Bd6,O-O,O-O,c3,Bg4,h3,Bh5,Nbd2,Nbd7,Re1,Re8,b3,c6,Bb2,Qc7,Qc2,a6,Rac1,Rac8,c4,dxc4,bxc4,Bf4,Bf5,Bxf3,gxf3,Bg5,Kh1,Qf4,Bc3,Qh4,Ne4,Nxe4,fxe4,Rcd8,Rcd1,Nf6,Qe2,g6,Bg4,h5,Bf3,Qxh3+,Kg1,Ng4,Bxg4,hxg4,Qd3,Qh6,Kg2,Bf4,Rh1,Qg5,Bd2,Bxd2,Rxd2,Kg7,d5,cxd5,Qd4+,Qf6', 'Rh7+,Kxh7,Qxf6', 'https://lichess.org/training/GMv4f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gmv89', 'Rapid', 'Mibell', 1967, 'shenriksen4', 1986, 'd4,d5,Nf3,c5,c4,e6,cxd5,exd5,e3,Nc6,dxc5,Bxc5,Bb5,Nf6,Ne5,Bd7,Qa4,Nxe5,O-O,O-O,Nc3,Bxb5,Qxb5,Bb6,Rd1,a6,Qb3,Rc8,Nxd5,Nxd5,Rxd5,Qc7,g3,Nc6,Bd2,Ba7,Rd1,Rfd8,Bc3,Rxd5,Rxd5,Qe7,Kg2,h6,Qd1,Rc7,a3,f6,Qd3,Ne5,Rd8+,Kf7,Qd5+,Qe6', 'Rf8+,Kxf8,Qxe6', 'https://lichess.org/training/gmv89');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gMv9D', 'Blitz', 'b1ackpig', 1610, 'Eme99', 1505, 'd4,g6,Nf3,Bg7,e4,d6,Be3,Nf6,Qd2,O-O,Nc3,e5,d5,b6,Bh6,Bb7,Bxg7,Kxg7,h4,Qd7,Be2,Na6,Ng5,Nc5,h5,Rae8,hxg6,fxg6,Nxh7,Nxh7,Qh6+,Kg8,Qxg6+,Kh8,O-O-O,Rg8,Qf6+,Qg7', 'Rxh7+,Kxh7,Rh1+,Qh6+,Rxh6#', 'https://lichess.org/training/gMv9D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GmVuR', 'Rapid', 'Costi_17', 1729, 'HenleyWhite', 1755, 'd4,d5,c4,e6,Nc3,Nf6,e3,Nc6,Nf3,Be7,Ne5,Nxe5,dxe5,Nd7,cxd5,Nxe5,e4,O-O,Bf4,Ng6,Be3,exd5,Nxd5,Be6,Nxe7+,Qxe7,Bd3,Qb4+,Qd2,Qd6,O-O,Ne5,Bf4,Qxd3,Qa5,Nc6,Qxc7,Qxe4,Bd6,Bd5,f3,Qd4+,Kh1,Rfc8,Qxb7,Na5,Qd7,Nc4,Rad1,Be6', 'Qxc8+,Rxc8,Rxd4', 'https://lichess.org/training/GmVuR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gMWqC', 'Classical', 'ianjf', 1692, 'chacal1982', 1655, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,h6,e3,Nf6,Bd3,Nc6,O-O,O-O,Qc2,b6,a3,Bd6,cxd5,exd5,Nb5,Bg4,Qxc6,Bxf3,gxf3,Nh5,Qxd5', 'Bxh2+,Kxh2,Qxd5', 'https://lichess.org/training/gMWqC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GmXeR', 'Blitz', 'Ventodaprile', 1893, 'Zlatchess', 1941, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Bb4+,Nc3,Qb6,Bd3,Bd7,O-O,f6,exf6,Nxf6,a3,Bd6,Bg5,O-O,Rb1,h6,Bh4,Nxd4', 'Nxd4,Qxd4,Bh7+,Nxh7,Qxd4', 'https://lichess.org/training/GmXeR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gn0KX', 'Rapid', 'KamBase', 2077, 'piton', 2119, 'e4,c5,Bc4,e6,Nf3,a6,a3,Qc7,d3,Nf6,O-O,h5,Bg5,Nc6,Nbd2,Bd6,c3,Ne5,Nxe5,Bxe5,Nf3,Bf4,Bxf6,gxf6,g3,Bd6,Ba2,b5,d4,c4,d5,Bb7,dxe6,dxe6,Re1,Ke7,Qe2,Rag8,Nh4,Rg4,f3,Bxg3,fxg4,Bxh4,Rf1,Rg8,h3,hxg4,hxg4,Qg3+,Qg2,Rxg4,Qxg3,Rxg3+,Kh2,Bxe4,Rf4,Rg2+,Kh3,Rxb2,Rxe4,Bg5,a4,Rc2,axb5,Rxc3+,Kg2,axb5,Bb1,f5,Ra7+,Kf6,Re2,Rc1,Bc2,b4,Rb7,b3,Bxb3,cxb3,Rxb3,Rc7,Rd3,Bf4,Kf3,Be5,Kg2,Rc3,Rd8,f4,Ra8,Kf5,Rea2,Rg3+,Kf2,Bd4+,Kf1,Rg1+,Ke2,Rg2+,Kf3,Rxa2,Rxa2,e5,Ra5,f6,Rb5,Kg5,Rb8,Be3,Ke4,Bd4,Rg8+,Kh6,Rg2,Kh5,Kf5,f3', 'Rh2#', 'https://lichess.org/training/gn0KX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gn3AC', 'Rapid', 'zepherighost', 1654, 'Yviix', 1662, 'b3,e5,Bb2,Nc6,e3,a6,d3,d5,Nd2,Nf6,Ngf3,Bg4,Be2,Bd6,h3,Bh5,O-O,Qe7,c4,h6,cxd5,Nxd5,e4,Nf4,Re1,Nxe2+,Rxe2,Nd4,Re1,Qf6,Bxd4,exd4,Nc4,Bb4,Rf1,b5,Nce5,Bd6,Ng4,Qf4', 'g3,Qxg4,hxg4', 'https://lichess.org/training/Gn3AC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gN3UL', 'Blitz', 'SpeckledBand', 2423, 'FM svenos', 2490, 'e4,c5,Nc3,Nc6,Nge2,e5,Nd5,d6,Nec3,f5,Bc4,Nf6,d3,Be7,Nxe7,Qxe7,Bg5,Be6,Nd5,Bxd5,Bxd5,f4,c3,h6,Bxf6,Qxf6,Qa4,Kd7,O-O-O,a6,Bxc6+,bxc6,d4,cxd4,cxd4,exd4,Rxd4,Rhd8,Rhd1,Ke7,Kb1,c5,Rd5,Rab8,b3,Rb4,Qxa6,Rxe4,R5d2,f3', 'Qb7+,Kf8,Qxe4', 'https://lichess.org/training/gN3UL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gn6Xn', 'Rapid', 'dudenhapu', 1823, 'bigiggye', 1810, 'd4,d5,c4,c6,Nf3,a6,h3,dxc4,Nc3,b5,e3,Bb7,Be2,Nf6,O-O,e6,Qc2,Nd5,Rd1,Nd7,a4,Nxc3,bxc3,Nf6,Ne5,Bd6,Bf3,Qc7,axb5,cxb5,Bxb7,Qxb7,Nf3,O-O,Ba3,Bxa3,Rxa3,a5,Rda1,a4,Rb1,Rfb8,Ne5,Qe4,Qb2,Nd5,Nxc4,b4,Nd2,Qd3,cxb4,Rxb4', 'Rxd3,Rxb2,Rxb2', 'https://lichess.org/training/gn6Xn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gN784', 'Blitz', 'sheko19941', 1924, 'GGG_Golovkin', 1931, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Nc6,O-O,e5,d5,Ne7,h3,b6,Rb1,Nd7,b4,a5,a3,axb4,axb4,f5,exf5,gxf5,Ng5,Nf6,Ne6,Bxe6,dxe6,Qc8,Nd5,Nfxd5,cxd5,Qb7,Bc4,f4,Qg4,Rf6,Rd1,Rg6,Qf3,Kh8,Bb2,Rg8,b5,Bf6,Bf1,Bh4,Rbc1,Bf6,Qc3,Nf5,Qxc7,Qxc7,Rxc7,f3,g4,Nh6,Rd3,Nxg4,hxg4,Rxg4+,Kh2', 'Rh4+,Bh3,Rg2+,Kh1,Rxh3#', 'https://lichess.org/training/gN784');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GN7G4', 'Classical', 'Sweetangryplayer', 1614, 'Eric2110', 1637, 'e4,c6,d4,a6,c4,h6,Nc3,g5,Bd3,Bg7,Nge2,Nf6,e5,Nh7,O-O,e6,Be3,d6,exd6,Qxd6,c5,Qe7,Ne4,Bd7,Nd6+,Kf8,Nxb7,e5,Qb3,Be6,Qb6,Bf6,Nd6,Nd7,Qxc6,Kg7,Bf5,exd4,Bxd4,Ne5,Bxe5,Bxe5,Nc3,Nf6,Bxe6,fxe6,Qb7', 'Bxd6,Qxe7+,Bxe7', 'https://lichess.org/training/GN7G4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gn7ZV', 'Rapid', 'realXMAN', 1765, 'Alfildave', 1738, 'e4,c5,c3,d6,d4,cxd4,cxd4,g6,Nc3,Bg7,Be3,e6,Qd2,Ne7,Bh6,O-O,h4,d5,h5,dxe4,Bxg7,Kxg7,hxg6,Nxg6,Qh6+,Kf6,Nxe4+,Ke7,O-O-O,Nd7,Qg5+,Ke8,Rxh7,Qc7+,Kb1,a6,d5,Qf4,dxe6,Qxe4+,Bd3,Qxe6,Nf3,Nde5,Re1,Qd6,Bxg6,fxg6,Rxe5+,Be6,Qxg6+,Kd8,Qg5+,Kc8,Rc5+,Kb8,Qg7,Qd1+,Rc1', 'Bf5+,Ka1,Qxc1#', 'https://lichess.org/training/Gn7ZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gn8af', 'Rapid', 'alexz2012', 1832, 'matthew_diao', 2103, 'e4,c5,c3,e6,d4,d5,exd5,exd5,Nf3,Nc6,Bb5,Bd7,O-O,Nf6,Re1+,Ne4,Bxc6,Bxc6,Ng5,Be7,Qh5,g6,Qh6,Bf8,Nxe4,Bxh6', 'Nf6+,Kf8,Bxh6#', 'https://lichess.org/training/gn8af');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gNbwW', 'Rapid', 'frceks', 1768, 'abe85', 1720, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,dxc4,e4,Bg7,Bxc4,O-O,Nf3,Bg4,h3,Bd7,O-O,a6,Ne5,b5,Nxf7,Rxf7,Bxf7+,Kxf7,Re1,Qc8,e5,Nh5,Nd5,Nc6,Rc1,Be6,Rxc6,Bxd5,e6+,Kf8,Bxe7+,Kxe7,Rc5,c6,Qg4,Qc7,Qg5+,Bf6', 'Qxd5,cxd5,Rxc7+', 'https://lichess.org/training/gNbwW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GNCFT', 'Blitz', 'Tactical_Mode', 2300, 'CM TwoKnightsTim', 2221, 'Nf3,f5,c4,Nf6,Nc3,e6,b3,Be7,Bb2,O-O,Qc2,d6,e3,a5,a3,b6,O-O-O,Bb7,h4,Nbd7,Ng5,Nc5,d4,Nce4,Nxe6,Qd7,Nxf8,Bxf8,d5,g6,Bd3,Bg7,Nxe4,fxe4,Be2,a4,b4,b5,h5,bxc4,hxg6,hxg6,Bxc4,Rf8,Rh2,Ng4,Rh4,Rxf2,Rd2,Nxe3,Qxe4,Rxd2,Kxd2', 'Nxc4+,Qxc4,Bxb2', 'https://lichess.org/training/GNCFT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gneAX', 'Classical', 'yoyo19891', 1833, 'tanls55', 1760, 'e4,d6,d4,c6,c4,Nf6,Nc3,g6,Nf3,Qc7,Be2,Bg7,O-O,O-O,b3,Re8,Rb1,Nbd7,Bb2,b6,Bd3,Bb7,Ne2,Rad8,Ng3,e5,dxe5,dxe5,Bc2,c5,Bc1,a6,a3,Nf8,Qe1,Ne6,b4,Bf8,Ba4,Re7,Be3,Nxe4,Nxe4,Bxe4,Rd1,Rxd1,Qxd1,Bxf3,Qxf3,cxb4,axb4,Qxc4,Bb3,Qxb4,Bxe6,Rxe6,Rd1,b5,g3,Bc5,Rd8+,Kg7,Rd7,Rf6,Qd1,Bxe3,fxe3,a5,Rd5,Qb2,Qe1,b4,Rxa5,Rf2,Qxf2,Qc3,Ra6,e4,Qf4,Qe1+,Kg2', 'Qe2+,Qf2,Qxa6', 'https://lichess.org/training/gneAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GneJR', 'Rapid', 'sadjad', 1781, 'seljakseljakovic', 1750, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,d6,Qb3,Nf6,Bc4,Qe7,Nf3,h6,O-O,c6,Bd2,Be6,Bxe6,fxe6,e5,dxe5,Nxe5,Qd6,Ng6,Rg8,Qxb7,Ng4,Bf4,e5,Bg3,Qxg6,Qxa8,Bd6,Qxa7,h5,h3,Nh6,Rfe1,Nd7,Qa8+,Kf7,Qxc6,Rd8,Qd5+,Kf8,Ne4,Nf6,Nxf6,gxf6,a4,Nf5,Qb7,Nxg3,fxg3,Qxg3,Qf3,Qg5,a5,f5,a6,e4,Qe3', 'Qxe3+,Rxe3,Bc5,Kf1,Bxe3', 'https://lichess.org/training/GneJR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gnFHJ', 'Classical', 'Joepiemars', 2005, 'Keyboard500', 2391, 'e4,e6,d4,d5,Nc3,Nf6,exd5,exd5,Bd3,Be6,Nf3,Bd6,O-O,O-O,Nb5,a6,Nxd6,cxd6,h3,h6,Re1,Nc6,c3,Rc8,Bf4,Qd7,Rc1,Ne7,Qc2,Nc6,Bh2,Nb4,Qb1,Nxd3,Qxd3,Rfe8,Nd2,b5,Qg3,Rc6,Re3,Bf5,Rce1,Rxe3,Rxe3,Ne4,Nxe4,dxe4,Qh4,a5,g4,Bh7,Qg3,Qe6,b3,a4,c4,axb3', 'd5,Qf6,dxc6', 'https://lichess.org/training/gnFHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gNFzp', 'Rapid', 'Mirbekxard', 1822, 'TheThunderFry', 1838, 'e4,c5,Nf3,Nc6,Bc4,e5,d3,d6,Be3,Bg4,h3,Bh5,g4,Bg6,Qd2,Nf6,Nc3,Be7,Nd5,Nxd5,Bxd5,Nd4,Nxd4', 'cxd4,Bxd4,exd4', 'https://lichess.org/training/gNFzp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GnH31', 'Blitz', 'iskander2001', 1813, 'alberuni', 1835, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,d6,f3,Bg7,Be2,O-O,Qd2,Re8,O-O,Nxd4,Bxd4,b6,a3,Bb7,Rad1,Rc8,Kh1,e6,Be3,d5,e5,Nd7,f4,Nc5,Bb5,Re7,Be2,Rd7,Bd4,a6,Bf3,b5,Qe3,Bf8,h3,Rdc7,Ne2,Nd7,c3,Bc5,Nc1,Bxd4,Qxd4,Rc4,Qd2,Qh4,Be2,Re4,Bd3,d4,Bxe4,Bxe4,Qxd4', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/GnH31');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GNhMm', 'Rapid', 'panza1977', 1898, 'Mr_Frankenstein', 2012, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Nc6,Bc4,d6,Qe2,Be7,O-O,Nf6,Rd1,Qc7,Bg5,a6,a3,O-O,Rac1,h6,Bh4,g5,Bg3,Nh5,b4,Nxg3,hxg3,b5,Ba2,Bb7,a4,Qb6,axb5,axb5,Nxb5,Rxa2,Qxa2,Qxb5,Qd2,Ra8,Nd4,Nxd4,Qxd4,Ra4,Rc7,Rxb4,Qc3,Bd8,Rxd6,Bxc7,Qxc7,Bxe4,Qe7,Rb1+,Kh2,Rh1+,Kxh1', 'Qf1+,Kh2,Qxg2#', 'https://lichess.org/training/GNhMm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gNhQY', 'Rapid', 'TPare', 1691, 'nuramin01', 1687, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Qe2,Bc5,h3,O-O,d3,Re8,Nc3,Bd4,Bd2,b5,a3,Qd6,Qf3,Bxc3,Bxc3,Nd7,Be2,Nf8,O-O,Ng6,Rfe1,Qc5,d4,Qg5,Kh1,Bb7,e5,Rab8,Qd3,c5,Rg1,Nf4,Qg3', 'Qxg3,fxg3,Nxe2', 'https://lichess.org/training/gNhQY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gnHSG', 'Rapid', 'MEMENTO_74', 2115, 'nicg', 1997, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Bd6,h3,h6,Nc3,c6,Be3,O-O,O-O,Re8,Ne2,Ne4,c3,f5,Qc2,Bd7,Rfe1,Qf6,Bf4,Bxf4,Nxf4,Be6,Ne5,Nd7,Nxe6,Qxe6,f4,Nxe5,fxe5,Qg6,Bxe4,fxe4,Rf1,Rf8,c4,Qg3,cxd5,cxd5,Rxf8+,Rxf8,Rf1', 'Qe3+,Qf2,Rxf2', 'https://lichess.org/training/gnHSG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GNHyn', 'Rapid', 'enekobill', 1601, 'Jazzzz65', 1694, 'e4,d5,exd5,Qxd5,d4,Nf6,Nc3,Qa5,Bd2,c6,Nf3,Bg4,Be2,e6,O-O,Be7,Nd5,Qxd5,b3,Bxf3,Bxf3,Qxd4,c3,Qd6,Qc2,O-O,Bg5,Nbd7,Rfd1,Qc7,Qd3,Rad8,Bxf6,Nxf6,Qc2,Rxd1+,Rxd1,Rd8,Re1,Bd6,g3,h6,c4,Nh7,Be4,Ng5,Bg2,Bb4,Rf1,Rd2,Qb1,Qa5,h4,Nh7,a4,Ba3,Be4,f5,Bg2,Bc5,Qe1,Rd6,Qxa5,Bd4,Qc7,Be5,Qb8+,Nf8,Qxb7,Rd3,a5,Bd4,a6,Rxg3,Kh2,Rg4,Kh3,g5,f3', 'Rxh4+,Kg3,f4#', 'https://lichess.org/training/GNHyn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GnII3', 'Blitz', 'jonavelez', 1820, 'gsm41', 1942, 'f4,e6,Nf3,d5,d4,c5,e3,Nc6,c3,Bd7,Be2,Qb6,O-O,Nf6,Ne5,Bd6,Nd2,O-O,Ndf3,Bxe5,fxe5,Ne4,Bd3,f5,Bxe4,fxe4,Ng5,Rxf1+,Qxf1,Rf8,Qe2,h6,Nh3,cxd4,cxd4,Nb4,Nf4,g5,Nh5', 'Bb5,Qd1,Rf1+,Qxf1,Bxf1', 'https://lichess.org/training/GnII3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gnIm8', 'Blitz', 'perplejo', 1888, 'PrzemoDrzemo', 1867, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bb7,O-O,Nf6,Re1,Bc5,c3,O-O,d4,exd4,cxd4,Bb6,Nc3,d6,e5,dxe5,dxe5,Qxd1,Rxd1,Ng4,Bf4,Nxf2,Nd5,Nxd1+,Nxb6,cxb6,Rxd1,Rad8,Rxd8,Rxd8,Ng5,Rd7', 'e6,fxe6,Bxe6+,Kf8,Bxd7', 'https://lichess.org/training/gnIm8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gNKly', 'Rapid', 'chojecik', 1716, 'Mlazm', 1770, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Bf4,c5,d5,Bd7,Qd2,a6,Bh6,b5,Bxg7,Kxg7,cxb5,axb5,Nxb5,Bxb5,Bxb5,Nxe4,Qe3,Qa5+,Kd1,Nxf2+,Qxf2,Qxb5,Ng5,Qd3+,Qd2,Qf5,Re1,Ra4,Nf3,Qg4,Re2,Nd7,h3,Qf5,Qc3+,Kg8,b3,Rb4,a3,Ra8,Rxe7,Qxd5+,Nd2,Rxb3', 'Qxb3,Qxb3+,Nxb3', 'https://lichess.org/training/gNKly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GNLBH', 'Blitz', 'Felipe_Rangel', 1834, 'veke55', 2004, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nc6,Bf4,a6,Nf3,Bf5,Bd3,Bxd3,Qxd3,e6,a3,Bd6,Bxd6,Qxd6,O-O,Nge7,Ne2,h6,c3,Ng6,Rfe1,O-O,Rad1,Na5,g3,Nc4,Qc2,Qb6,Rb1,Rac8,Nc1,Nd6,Nd3,Qc7,Nc5,Rfe8,Qb3,Kh7,Rbd1,Rb8,Qc2,Rbd8,Ne5,Nf5,Ncd3,Nxe5,Nxe5,Kg8,Nf3,Rf8,Qe2,b5,Ne5,Nd6,f4,Nc4,Nd3,Qd6,Nb4,a5,Nd3,Rb8,Ne5,Qc7,Nxc4,bxc4,Rd2,Rb3,Qe5,Qxe5,fxe5,Rfb8,Ree2,Kf8,Kg2,Ke7,h4,Rf8,g4,f6,exf6+,Rxf6,Re3,Rb8,Rde2,Rbf8,g5,hxg5,hxg5,Rg6,Re5,Kd6,Kg3,Rf1,Kg4,Rg1+,Kh5,R6xg5+,Rxg5,Rh1+,Kg6,Rh8,Kxg7,Re8,Rge5,Re7+,Kf6,Re8,Kf7,Kd7,Rxe6,Rh8,Re7+,Kc6,R2e6+,Kb5,Rb7+,Ka4,Re2,Rh7+,Ke6,Rxb7,Kxd5,Rc7,Kd6,Rc8,d5,Kb5,Kd7,Rh8,d6,Rh7+,Kc8,Kc6,Re7', 'Rh8+,Re8,Rxe8#', 'https://lichess.org/training/GNLBH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GnLki', 'Rapid', 'potapov1972', 1740, 'viteck87', 1741, 'e4,e5,Bc4,Nc6,Nc3,Nf6,Nf3,d6,d4,exd4,Nxd4,Ne5,Bb3,c5,Nf5,g6,Ng3,Bd7,Bg5,c4,Ba4,a6,b4,b5,Nd5,Be7,f4,Nc6,e5,dxe5,fxe5,Nxe5,Bh4,bxa4,O-O,Nxd5,Qxd5,Bxh4', 'Qxe5+,Be6,Qxh8+', 'https://lichess.org/training/GnLki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GnLXa', 'Rapid', 'matencinq', 1655, 'amalakhov2', 1609, 'd4,d5,c4,Nf6,Nc3,dxc4,e3,e6,Bxc4,Bb4,Ne2,a6,O-O,b5,Bb3,c5,a3,Bxc3,Nxc3,c4,Bc2,Bb7,e4,O-O,Bg5,h6,Bh4,Qc8,e5,Nd5,Qg4,Nxc3,bxc3,Nd7,Bf6,Nxf6,exf6,g6,Bxg6,fxg6,Qxg6+,Kh8,Qxh6+,Kg8,Qg5+,Kf7', 'Qg7+,Ke8,Qe7#', 'https://lichess.org/training/GnLXa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gnmM8', 'Rapid', 'beika', 1820, 'Lokotromis', 1811, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Ne5,Nc3,a6,Bf4,d6,Qd2,h6,O-O-O,f6,Be2,h5,h3,g5,Bh2,g4,f4,gxf3,gxf3,Bxh3,Bxe5,Bg2,Rh2,Bxf3,Nxf3,fxe5,Qg5', 'Bh6,Rxh5,Bxg5+', 'https://lichess.org/training/gnmM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gnNUd', 'Blitz', 'JustSayNoToChess36', 2355, 'NM gooddave2017', 2408, 'e4,d6,d4,Nf6,Nc3,c6,g3,Qa5,Bd2,Nbd7,Bg2,h5,Nh3,h4,Nf4,hxg3,hxg3,Rxh1+,Bxh1,e5,dxe5,dxe5,Nd3,Qc7,Qe2,Nc5,O-O-O,Be6,Be3,Nxd3+,Qxd3,a6,f4,Rd8,Qxd8+,Qxd8,Rxd8+,Kxd8,f5,Bc8,Bf3,Bb4,Na4,Nd7,Nb6,Bd6,Nxc8,Kxc8,g4,Bc5,Kd2,Kc7,g5,Kd6,c3,Bxe3+,Kxe3,f6,g6,a5,b4,Nb6,Be2,Na4,Kd2,axb4,cxb4,b5,Kc2,Nb6,Kb3,Nd7,a4,bxa4+,Kxa4,Kc7,Bd3,Kb6,Kb3,c5,Kc4,cxb4,Kxb4,Nc5,Bb1,Kc6,Bc2,Kb6,Kc4,Kc6,Bb1,Kd6,Kb5,Nb3,Kb6,Nd2,Bc2,Nc4+,Kb7,Na3,Bd3,Kc5,Kc7', 'Kd4,Bf1,Kxe4', 'https://lichess.org/training/gnNUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GNOGw', 'Rapid', 'Josue-Argel', 1807, 'Bahti20', 1870, 'e4,Nc6,d4,d5,e5,f6,f4,Bf5,Bd3,Bxd3,Qxd3,Nb4,Qb5+,Nc6,Nf3,Nh6,Nc3,e6,O-O,a6,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/GNOGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gnOkH', 'Blitz', 'tezec', 1666, 'dusan345', 1567, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Nbd7,O-O,Re8,Be3,b6,d5,e6,Qd2,e5,Bh6,Bh8,Ng5,Nc5,f4,exf4,Rxf4,Bb7,b4,Ncd7,Bd3,Ne5,Raf1,c6,Nh3,cxd5,cxd5,a5,Bg5,axb4,Bxf6,Bxf6,Rxf6,bxc3,Qxc3,b5,Ng5,Qb6+,Kh1,Ng4,Rxf7,Re5,Rxh7,Nf2+,Rxf2,Qxf2,Rxb7,Rf8,Nf3,Rxf3,gxf3', 'Qxf3+,Kg1,Rg5#', 'https://lichess.org/training/gnOkH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GNorV', 'Blitz', 'NM AerospasticMonkey', 2190, 'Greensquares', 2080, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,h3,d6,c3,Nb8,d4,Nbd7,Nbd2,Bb7,Bc2,Re8,Nf1,Bf8,Ng3,h6,a4,c6,Nf5,exd4,cxd4,c5,d5,c4,b3,cxb3,Bxb3,Nxe4,Qd4,Ndf6,Bb2,Nc5,Bc2,Nxa4,Bxa4,bxa4,Nxh6+,gxh6,Qxf6,Qxf6,Bxf6,Rxe1+,Nxe1,Bxd5,Rxa4,Bc6,Ra5,Bb5,Nc2,d5,Nd4,Rb8,g3,Bb4,Ra2,a5,Nxb5,Rxb5,Bd4,Rb7,Rc2,Rb8,Rc6,Ra8,Rc2,a4,Ra2,a3,Be3,Kg7,Kf1,h5,Ke2,Kg6,Kd3,Kf5,Kd4,Ke6,Kd3,Bd6,Kc2,Rc8+,Kb3,Rb8+,Kc2,Kf5,Bc1,Ke4,Ra1,Kf3,Be3,Rb2+,Kc1,Rxf2,Bxf2,Kxf2,Kc2,Kxg3,Kd3,Kxh3,Kd4,f6,Kxd5,Bb4,Rb1,a2,Ra1,Bc3,Rxa2,Be5,Ra3+,Kg4,Ke4,h4,Ra1,h3,Rg1+,Kh4,Kf3', 'h2,Rc1,Kh3', 'https://lichess.org/training/GNorV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GNp5z', 'Blitz', 'IM damestar', 2441, 'MelkozerovSergey', 2426, 'e4,c5,Nc3,d6,Nge2,Nf6,g3,Nc6,Bg2,g6,d4,Bg7,d5,Nb8,O-O,a6,a4,O-O,h3,e6,dxe6,Bxe6,Bf4,Ne8,Qd2,Nc6,Bh6,Rb8,Bxg7,Kxg7,Nf4,b5,axb5,axb5,Ncd5,Ne5,b4,Bxd5,Nxd5,Nd7,Ra7,Ra8,Rxd7,Qxd7,Nb6,Qa7,Nxa8,Qxa8,bxc5,dxc5,Qc3+,Kg8,Qxc5,Qa2,e5,Ng7,Bd5,Qb2,Bb3,Re8,Re1,Ne6,Qxb5,Rd8,Qe2,Nd4,Qc4,Nf3+,Kf1', 'Nd2+,Kg2,Nxc4', 'https://lichess.org/training/GNp5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gnpMz', 'Blitz', 'FM Lioni26', 2550, 'Andres1492', 2097, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Bg5,e6,f4,Nbd7,Qf3,Qb6,O-O-O,Be7,Qg3,Nc5,e5,Nfe4,Nxe4,Nxe4,Qh4,Nxg5,fxg5,dxe5,Nb3,Qe3+,Kb1,Qxg5,Qa4+,Kf8,Qa5,g6,h4,Qg4,Bd3,Kg7,h5,h6,hxg6,fxg6,Qxe5+,Bf6,Qc7+,Kg8,Rhf1,Rh7,Qb6,Rf7,a3,Kg7,Nc5,e5,Nb3,Be6,Be2,Qxg2,Qxe6,Qxe2,Rg1,Raf8,Rde1,Qh5,Rh1,Qf5,Qd5,e4,Qd1,Qe5,c3,e3,Qe2,Re7,Nd4,Qe4+,Ka1,Bxd4,cxd4,Qxd4,Rhg1,g5,Qg2,Qd2', 'Qxd2,exd2,Rxe7+', 'https://lichess.org/training/gnpMz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GnRLS', 'Blitz', 'DAVUODyari', 1540, 'Dr_oglu', 1539, 'e4,e5,Nf3,Bd6,b3,h6,Bb2,Qe7,d4,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,Nbd2,Nf6,Re1,O-O', 'dxe5,Bxe5,Bxe5,Qxe5,Nxe5', 'https://lichess.org/training/GnRLS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GNSmo', 'Blitz', 'LaughingCoffin57', 2451, 'NM chessiah', 2494, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Qc2,Re8+,Ne2,g6,h4,Nd7,h5,Nf8,hxg6,fxg6,Bxg6,Nxg6,Be3,Qc7,O-O-O,b5,Rh5,Bg4,Rh6,Bxe2,Qxe2,Qg7,Rdh1,Bf4,Rxh7,Bxe3+,fxe3,Qxh7,Rxh7,Kxh7,Qf3,Re6', 'Qh3+,Kg7,Qxe6', 'https://lichess.org/training/GNSmo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GNtE2', 'Rapid', 'Yvp40', 1752, 'pawnsome', 1775, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,h3,Bxf2+,Kxf2,Nxe4+,Kg1,Qd4+,Kh2,Nf2,Qe2+,Be6,Nc3,Nxh1,Kxh1,O-O-O,Be3,Qe5,Rb1,Kb8,Ne4,Qd5,Nc5,Bxh3,Nxb7,Kxb7,d4,Rhe8,Qa6+,Kb8,c4,Qh5,Bf2,Bf5+,Kg1,Bxb1', 'd5,c5,Bxc5', 'https://lichess.org/training/GNtE2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gNTiB', 'Blitz', 'sobhan2900', 2202, 'IM wannabe2700', 2463, 'e4,c5,Nf3,b6,d4,cxd4,Nxd4,Bb7,Nc3,e6,Be2,Nf6,Bf3,Bb4,e5,Nd5,O-O,Bxc3,bxc3,Nxc3,Qd3,Nd5,c4,Nb4,Qb3,Bxf3,Qxf3,N8c6,Nb5,O-O,Qg3,f5,Bh6,Qe7,Rad1,Nxe5,Qxe5,gxh6,Rd3,Rf6,Rh3,Nc6,Qe2,Kh8,Re1,Rg8,Nc3,f4,Qd3,f3,Rxf3,Ne5', 'Rxe5,Rxf3,Qxf3', 'https://lichess.org/training/gNTiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GNUbv', 'Blitz', 'IM Maestro99az', 2486, 'Aristarco2', 2564, 'e4,c5,Nf3,Nc6,Nc3,Nf6,e5,Ng4,Qe2,f6,exf6,Nxf6,g3,e5,Bg2,d6,O-O,Be7,d3,O-O,Bg5,Bg4,h3,Nd4,Qd1,Nxf3+,Bxf3,Bxh3,Re1,Qd7,a3,h6,Bxf6,Rxf6,Bd5+,Be6,Bxe6+,Qxe6,Ne4,Rf7,c4,Raf8,Re2,Rf3,Qd2,b6,Rae1,Bd8,b4,cxb4,axb4,d5,cxd5,Qxd5,Re3,b5,Rxf3,Rxf3,Re3,Rf5,Nc3,Qc6,Qa2+,Kh7,Nd5,Bb6', 'Ne7,Qe8,Nxf5', 'https://lichess.org/training/GNUbv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GnvCi', 'Rapid', 'Bognomme', 1700, 'Sazik', 1612, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Bf5,Ng3,Bg6,d4,e6,Bg5,Qb6,b3,Ne7,Nh4,h6,Nxg6,Nxg6,Be3,Nd7,Bd3,Ne7,O-O,Nd5,Bd2,Bd6,Qg4,g6,Qh4,Be7,Qh3,h5,c4,Nc7,c5,Nxc5,dxc5,Bxc5,Ne4,O-O-O,Nxc5,Qxc5,Be3,Qc3,Bc4,Nd5,Bxd5,Rxd5,Rad1,Rhd8,Rxd5,Rxd5,Rc1', 'Qxc1+,Bxc1,Rd1#', 'https://lichess.org/training/GnvCi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gnvic', 'Rapid', 'Iplayu', 1891, 'gjdgjdfj', 1887, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Be3,e5,Nf3,Ng4,Bg5,f6,Bd2,Nh6,Qc1,Nf7,h4,Nc6,d5,Ne7,h5,c6,hxg6,Nxg6,Nh4,Nxh4,Rxh4,f5,Rh2,f4,Qc2,Ng5,O-O-O,cxd5,Nxd5,Be6,Rdh1,Rc8,b3,Bf7,g3,f3,Bd3,Bg6,Ne3,b5,Kb1,a5,Ng4,h5,Ne3,Ne6,Nf5,Nc5,Nxg7,Kxg7,g4,Nxd3,Qxd3,bxc4,bxc4,Qb6+,Ka1,Qb7,gxh5,Qxe4,h6+,Kh7,Qxd6,Rb8,Qc7+,Bf7,Rg1', 'Qd4+,Bc3,Qxc3#', 'https://lichess.org/training/gnvic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GNWf3', 'Blitz', 'YurievDen', 2019, 'DYSdrogo', 1632, 'e4,e5,f4,d5,exd5,e4,c4,c6,d4,cxd5,c5,Nc6,Be3,Nf6,Nc3,Ng4,Qd2,Bd7,h3,Nxe3,Qxe3,Qh4+,g3,Qd8,O-O-O,Be7,Nxd5,O-O,Qxe4,Re8,Nxe7+,Nxe7,Qc2,Nf5,Qc3,Ne3,Re1,Nxf1,Rxf1,Bb5,Rd1,Qd5,Nf3,Be2,Ne5,Bxd1,Rxd1,f6,Nc4,Re2,Nd6,Qxa2,b4,a5,b5,a4,c6,bxc6,bxc6,a3,c7,Qb2+,Qxb2', 'axb2+,Kb1,Ra1#', 'https://lichess.org/training/GNWf3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gnWTH', 'Rapid', 'winbuy', 1874, 'SalamAmoudarengin', 2110, 'd4,d6,c4,g6,e4,Bg7,Bg5,Nc6,Be3,Nf6,Nc3,Ng4,d5,Nxe3,fxe3,Ne5,Be2,O-O,Nf3,Bg4,O-O,Qd7', 'Nxe5,Bxe2,Nxd7', 'https://lichess.org/training/gnWTH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gnWTL', 'Blitz', 'Yudhistira_LCKB', 2272, 'FM shnitez', 2473, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Bxd7+,Bxd7,c3,Nf6,Re1,e5,d4,Qc7,Bg5,Be7,Nbd2,b5,Rc1,O-O,Nf1,Rfe8,Ng3,Rac8,Qd2,Bg4,h3,Bxf3,gxf3,h6,Bxf6,Bxf6,Nf5,Bg5,f4,Bxf4,Qe2,g6,Ne3,exd4', 'Nd5,Qd8,Nxf4', 'https://lichess.org/training/gnWTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GnXVc', 'Rapid', 'DakiDark', 1759, 'rodrigofs75', 1748, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Nxc3,Bb4,Bd2,Nf6,e5,Ng4,a3,Ba5,b4,Bb6,Ne4,Ncxe5,Nxe5,Nxe5,Bc3,f6,Bxe5,fxe5,Qh5+,g6', 'Qxe5+,Qe7,Qxh8+', 'https://lichess.org/training/GnXVc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gNYfF', 'Rapid', 'Bom-Jogo', 1919, 'DEVIL14', 1933, 'd4,c5,Nf3,cxd4,Nxd4,Nc6,g3,e5,Nb3,d5,Bg2,Be6,c3,f5,O-O,Nf6,N1d2,Bd6,Re1,O-O,Nf3,h6,e3,g5,h4,g4,Nfd2,b5,Qe2,a6,Nf1,Kg7,Bd2,Qc7,Rad1,Rae8,Bc1,f4,exf4,exf4,Qd2,Bf5,Bxd5,Rxe1,Rxe1,Ne5,Bg2,Nc4,Qd1,fxg3,fxg3,Bxg3,Nd4,Bc8,Re6,Bxh4,Nf5+,Kf7', 'Re7+,Qxe7,Nxe7', 'https://lichess.org/training/gNYfF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GnYMI', 'Classical', 'Thaumazo-1983', 1669, 'MGWPacman', 1704, 'd4,d5,c4,c6,cxd5,cxd5,Nf3,Bf5,Nc3,Nc6,Bg5,h6,Bh4,Qb6,Qd2,e6,e3,Bb4,Be2,Nf6,Bxf6,gxf6,O-O,e5,dxe5,Bxc3,bxc3,O-O-O,exf6,Kb8,Bd3,Bxd3,Qxd3,Rd6,Rab1,Qd8,Qb5,b6,Nd4,Nxd4,cxd4,Qxf6,a4,Rg8,a5,Qg6,g3,h5,axb6', 'Rxb6,Qxd5,Rxb1', 'https://lichess.org/training/GnYMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('go0D6', 'Blitz', 'kambizhamburg', 2044, 'Grewia', 1985, 'd4,f5,c4,Nf6,Nc3,g6,Nf3,Bg7,g3,O-O,Bg2,d6,O-O,a5,Re1,Na6,a3,c6,e4,fxe4,Nxe4,Nxe4,Rxe4,Bf5,Re1,Qd7,Bg5,Rae8,Qd2,Bg4,Nh4,Nc7,f3,Be6,b3,Bf7,Rad1,b5,d5,c5,Qxa5,bxc4,bxc4,h6,Bc1,g5,Nf5,Qxf5,Qxc7,Bd4+,Kh1,e5,Qxd6,Qc2,Qxh6,Bg6,Qxg5,Kg7,Qh6+,Kf7,f4,Rh8,Qg5,Rh5,Qg4,Reh8,h4,Bf5,Qf3,e4,Rxe4,Bxe4,Qxe4,Qxd1+,Kh2,Rxh4+,gxh4', 'Rxh4+,Bh3,Qg1#', 'https://lichess.org/training/go0D6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('go1mu', 'Rapid', 'ndelmr', 2084, 'Blind_Mouse', 2038, 'Nf3,Nf6,e3,g6,d4,Bg7,c4,O-O,Be2,c5,Nc3,d5,dxc5,Qa5,O-O,dxc4,Bxc4,Qxc5,Be2,Nc6,a3,Rd8,Qc2,Bf5,Qa4,Qa5,Qxa5,Nxa5,Nd4,Bd7,b4,Nc6,Nb3,b6,Bf3,Rac8,Bb2,Be6,Bxc6,Bxb3,Bf3,Rd2,Rab1,Rxb2,Rxb2,Rxc3,h3,Bc4,Rd1,Rxa3,Rd8+,Bf8,Rc2,b5,Ra8,Kg7,Be2,Bxe2,Rcc8,Nd7,Rd8,Nb6,Rab8,Bc4,Rxf8,Nd5,Rg8+,Kf6,Rbf8,Nxb4,Rh8,h5,g4,hxg4,hxg4,a5,f4,Ra2,Rb8,a4,Rh7,a3,Rb6+,Be6,e4,Nd3', 'g5#', 'https://lichess.org/training/go1mu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gO573', 'Blitz', 'Alexisrw', 2082, 'FM ChickenElephant', 2213, 'e4,e5,Bc4,Nc6,d3,Nf6,Nc3,Na5,Bb3,Bc5,Bd2,O-O,Nf3,d6,O-O,c6,h3,Re8,a3,Nxb3,cxb3,a5,Bg5,h6,Bh4,Be6,g4,g5,Nxg5,hxg5,Bxg5,Kg7,Kg2,Qd7,f4,exf4,Rxf4,Nh7,Bh4,Kh8,d4,Bb6,d5,cxd5,exd5,Bxd5+,Qxd5,Qe6,Qxb7,Qxb3,Na4,Rab8,Qxf7,Qc2+,Kh1,Qc6+,Kh2,Qc2+,Kg3,Qd3+,Rf3,Qd4,Bf6+,Nxf6,Qxf6+,Qxf6,Rxf6,Bd4,Rxd6', 'Be5+,Kg2,Bxd6', 'https://lichess.org/training/gO573');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('go5KL', 'Blitz', 'CM jarnott', 2206, 'tonnemans', 2257, 'e4,d6,d4,Nf6,Nc3,e5,d5,c6,Be2,cxd5,exd5,Be7,Be3,Nbd7,h3,a6,g4,Nb6,g5,Nfd7,h4,Qc7,a4,Nc5,a5,Nbd7,Nf3,b5,axb6,Nxb6,Nd2,Nbd7,Nc4,a5,Nb5,Qb8,h5,Ba6,Nca3,O-O,g6,f5,gxh7+,Kh8,h6,g6,f4,Nf6,fxe5,dxe5,Bg5,Qd8,d6,Bxb5,Nxb5,Ne6,dxe7,Qxe7,Bc1,Rad8,Bd2,Ne4,Bd3,Nxd2,Qxd2,Nd4,O-O-O,a4,Nxd4,Rxd4,Qc3,Rfd8,Bb5,Qg5+,Kb1,Rxd1+,Rxd1,Rxd1+,Ka2,Qe7,Bxa4,Kxh7,Bb3,Rd7,Qc4,Ra7+,Kb1,Kxh6,Qf1,Qg5,c4,Rd7,c5,Qd2,c6,Qd3+', 'Qxd3,Rxd3,c7', 'https://lichess.org/training/go5KL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('go6gC', 'Classical', 'offensive', 1793, 'Mohamadhossein', 1883, 'd4,b6,e3,Bb7,Nc3,Nf6,Bd2,d5,g4,e6,h4,Bb4,Bd3,O-O,g5,Ne4,Bxe4,dxe4,Qe2,Nc6,O-O-O,e5,dxe5,Nxe5,Qb5,Bxc3', 'Bxc3,Nd3+,cxd3', 'https://lichess.org/training/go6gC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gO6GZ', 'Rapid', 'skd98', 1722, 'Duke11', 1747, 'e4,d5,exd5,Nf6,d3,Nxd5,Bd2,e5,Nc3,Bc5,Nf3,Nc6,Bg5,Be7,Nxd5,Bxg5,Nxg5,Qxd5,Be2', 'Qxg2,Bf3,Qxg5,Bxc6+,bxc6', 'https://lichess.org/training/gO6GZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('go7yz', 'Rapid', 'CrashCourse', 1674, 'CrazyKrisz', 1625, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Nbd7,Nf3,h6,Bxf6,Nxf6,Qc2,Bg4,Ne5,e6,Nxg4,Nxg4,h3,Nf6,e3,Bb4,cxd5,cxd5', 'Qa4+,Kf8,Qxb4+', 'https://lichess.org/training/go7yz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gO8jx', 'Blitz', 'ajedrezsucumbios', 1775, 'moiseev__V', 1656, 'e4,d5,e5,c5,f4,Bf5,Nf3,Nc6,Bb5,e6,O-O,Ne7,c3,a6,Ba4,b5,Bc2,Qb6,Bxf5,Nxf5,Kh1,h5,a4,h4,axb5,Qxb5,Na3,Qb6,d4,cxd4,cxd4,Ncxd4,Qa4+,Nb5,Nxb5', 'Ng3+,hxg3,hxg3+,Nh4,Rxh4#', 'https://lichess.org/training/gO8jx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Goadf', 'Rapid', 'Vinyasa93', 1735, 'ArdaOsman', 1686, 'e4,e5,Nf3,Nc6,b3,Nf6,Bd3,Bb4,Bb2,d6,c3,Bc5,b4,Bb6,a4,a5,b5,Ne7,Na3,Be6,Ng5,Bg4,f3,Bd7,Nc4,Ba7,Nxa5,c6,Nxb7,Qb6,Nxd6+,Kf8,Qe2,cxb5,Ndxf7,h6,Nxh8,hxg5,axb5,Kg8,c4,Nh5,Ra6,Qc5,Ba3,Qd4,Bxe7,Nf4,Qf1', 'Nxd3+,Qxd3,Qxd3', 'https://lichess.org/training/Goadf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gOAej', 'Classical', 'Scastangia', 1611, 'STL4Chess', 1670, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,c5,e5,h6,Bh4,g5,Bg3,cxd4,Qxd4,Nc6,Bb5,Bd7', 'Bxc6,Bxc6,exf6', 'https://lichess.org/training/gOAej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gObHs', 'Rapid', 'AguilaJC', 1973, 'ISeth07', 2025, 'd4,Nf6,Bf4,d6,Nf3,g6,e3,Bg7,Be2,Nh5,Bg5,h6,Bh4,g5,Nfd2,gxh4,Bxh5,h3,gxh3,Bxh3,Qf3,Be6,Rg1,Bf6,Qxb7,Nd7,Qf3,d5,Nc3,c6,Nb3,a5,Nc5,Nxc5,dxc5,Qb8,Na4', 'Qb4+,c3,Qxa4', 'https://lichess.org/training/gObHs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GoBWf', 'Classical', 'bhorvat', 2025, 'ABS5', 2008, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,cxd4,cxd4,Nh6,O-O,Nf5,a3,Nfxd4,Nxd4,Qxd4,Nc3,Be7,Nb5,Qb6,Nd6+,Bxd6,exd6,Qd8,Qg4,g6,Bh6,Qxd6,Bg7,Rg8,Bf6,e5,Qg5,h6,Qh4,e4,Bb5,Bd7,Rad1,a6,Ba4,h5,Qxe4+,Kf8,Qf3,Bg4,Rxd5,Qe6,Qf4,Qxd5,Qh6+,Ke8,Re1+,Kd7,f3,Qc5+,Kh1,Be6,Rd1+,Kc7,Qf4+,Kc8,b4,Qf8,Qc1,Qe8,Rd8+,Qxd8,Bxd8,Kxd8,Bxc6,bxc6,Qxc6,Ke7,Qc5+,Kf6,g3,Kg7,h4,Rgc8,Qg5,Rd8,g4,Rd5,Qf4,Rad8,gxh5,Rxh5,Kg2,Rf5,Qe3,Rfd5,Qc3+,Kg8,Qc6,Rd2+,Kg3,R2d6,Qc3,Rc8,Qe3,Kh7,h5,Bf5,Qe7,Rcd8,Qxf7+,Kh6,hxg6,Rxg6+,Kf4,Be6,Qe7,Rdg8,Qh4+,Kg7,Qe7+,Bf7,Qe5+,Rf6+', 'Kg5,Kf8+,Kxf6', 'https://lichess.org/training/GoBWf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gOcNq', 'Rapid', 'campenter1974', 1962, 'Arkonada1', 1812, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,cxd4,cxd4,Bd7,b4,Rc8,Be3,Nge7,Bd3,Nf5,O-O,Be7,Bxf5,exf5,b5,Na5,a4,Nc4,Nbd2,O-O,Rc1,Nxe3,fxe3,Ba3,Rxc8,Rxc8,Qb3,Bc1,Qxd5,Be6,Qd6,Bxd2,Nxd2,Qa5,Nf3,Rd8,Qe7,h6,Nh4,Rd7,Qe8+,Kh7,Nxf5,Rd8,Qe7,Rd7,Qf8,Bxf5,Rxf5,Qe1+,Rf1,Qxe3+,Kh1,Qxd4,Qe8,Qd1,Kg1,Qd4+,Kh1,Qd1,Rg1,Qg4,h3,Qf5,Re1,Rd2,e6,fxe6,Qxe6,Qc2,Qg4,a6,bxa6,bxa6,Re7,Rd1+', 'Kh2,Qg6,Qxd1', 'https://lichess.org/training/gOcNq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GoDl5', 'Classical', 'Aroh9', 1776, 'Nisko1234', 1864, 'd4,Nf6,Bf4,e6,a3,d5,e3,c5,c3,Nc6,Nd2,Be7,Ngf3,O-O,Rc1,c4,b3,b5,a4,a6,bxc4,bxc4,Rb1,Ne8,Ne5,Nxe5,Bxe5,f6,Bb8,Bd6,Bxd6,Qxd6,Be2,e5,O-O,f5,Nf3,exd4,Qxd4,f4,Bxc4', 'dxc4', 'https://lichess.org/training/GoDl5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('goDru', 'Blitz', 'vaillant57', 1800, 'markdavidluansing', 1777, 'e4,c6,d4,d5,e5,Bf5,c3,e6,a3,c5,Nf3,Nc6,Bd3,Bg6,O-O,cxd4,Bxg6,hxg6,cxd4,Nge7,Nc3,Nf5,Be3,Nh4,g3,Nf5,Rc1,Rc8,Kg2,Be7,b4,a6,Na4,f6,Nc5,Kf7,Nxb7,Qc7,Na5,Qd7,Nxc6,Rxc6,exf6,gxf6,Qd2,Rb6,Qc2,Rbb8,Qc7,Qb5,Qc2,Rh7,Rh1,Rbh8,Bd2,Bd6,Qc6,Qe2,Rce1', 'Qxf3+,Kxf3,Nxd4+,Kg2,Nxc6', 'https://lichess.org/training/goDru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Goe7I', 'Rapid', 'ICHMANE', 1607, 'Zachary_Mac', 1703, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,dxc4,e3,Bd6,Bxc4,Bxf4,exf4,a6,Nf3,Bd7,O-O,O-O,Ne5,Nc6,Nxd7,Qxd7,d5,exd5,Nxd5,Nxd5,Qxd5,Qxd5,Bxd5,Na5,b4,c6,Bxf7+,Rxf7,bxa5,Rxf4,Rfe1,Rf7,Rab1,Rc8,Rb2,c5,Reb1,c4,Rxb7', 'Rxb7,Rxb7,c3', 'https://lichess.org/training/Goe7I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gOFGF', 'Rapid', 'Mollfels', 2113, 'Blackknight021049', 2050, 'd4,d6,e4,g6,Nc3,Bg7,Bf4,a6,Qd2,Nd7,Nf3,c5,d5,b5,Rb1,h6,Be2,Ngf6,Qe3,Bb7,h3,g5,Bh2,Qa5,a3,b4,axb4,cxb4,Nd1,Rc8,Bd3,Nc5,O-O,O-O,Nd4,Nxd3,Qxd3,Qc5,Ne3,Nd7,Ndf5,Ne5,Nxe7+,Kh8,Bxe5,Bxe5,Nxc8,Bxc8,Nf5,Kh7,Ne7,Bd7,Qxa6,Bb5,Qb7,Bxf1,Kxf1,Qxc2,Re1,Qd3+,Kg1,Qd4,Nc6,Qxb2,Qxb4', 'Qxb4,Nxb4,Bc3,Nd3,Bxe1', 'https://lichess.org/training/gOFGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GoFHb', 'Rapid', 'behzadprince', 1902, 'ziad26150', 1773, 'd4,c5,dxc5,Qa5+,Nc3,Qxc5,Nf3,d6,e4,e5,Be3,Qa5,Bd3,Nc6,O-O,a6,a3,Nf6,b4,Qd8,h3,Be7,Bc4,O-O,Na4,b5,Nb6,Rb8,Bd3', 'Rxb6,Bxb6,Qxb6', 'https://lichess.org/training/GoFHb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gOgOF', 'Rapid', 'yesen', 1947, 'Rozeznanie', 1933, 'd4,Nf6,Bf4,g6,Nf3,Bg7,Nc3,d6,Qd2,O-O,Bh6,c6,h4,b5,h5,Bxh6,Qxh6,b4,Nd1,Qa5,hxg6,fxg6,c3,b3,a3,Bf5,Ne3,Bc2,Ng4,Nbd7,Ng5,Qf5,Nxf6+,Nxf6,Nxh7,Ng4,Qh4,Nxf2,Nxf8,Nxh1,Qh7+,Kxf8,Qh8+,Kf7,Qxh1,Rf8,Qh7+,Ke8,Qh1,Qf2+,Kd2,Qf4+,Ke1,Qf6,g3,Kd7,Qg2,Rh8,Kd2,Qg5+,e3,Qf5,Be2,Qh3', 'Qxh3+,Rxh3,Bg4+,Bf5,Bxh3', 'https://lichess.org/training/gOgOF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gOHbd', 'Rapid', 'A_TH-19', 1854, 'ratusr', 2075, 'b4,e5,Bb2,d6,c4,f5,Qc2,Nc6,a3,Nf6,e3,g6,h3,Bg7,Be2,O-O,Nf3,h6,g4,e4,Nh2,Ne5,Bxe5,dxe5,gxf5,gxf5,Nc3,Be6,Rg1,c6,Nf1,a5,b5,Rc8,Qa4,Kh8,Ng3,Rg8,Nh5,Nxh5,Bxh5,Qh4,Be2,Bf6,O-O-O,cxb5,Qxb5,Qxf2,Rxg8+,Rxg8,Qxb7,f4,Qxe4,fxe3,dxe3,Bg5,Kc2', 'Bf5,Qxf5,Qxf5+', 'https://lichess.org/training/gOHbd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gOHH7', 'Classical', 'catmyledy', 1822, 'haldunaksel', 1823, 'e4,e5,Nf3,d6,Bc4,f5,d3,Nf6,Ng5,d5,exd5,Nxd5,Nc3,c6,a3,f4,Nge4,Be7,Qh5+,Kf8,Qxe5,Bf6,Nxf6,gxf6,Qh5,Qe7+,Kf1,Nxc3,bxc3,Be6,Bxe6,Qxe6,Qh6+,Kf7,Qh5+,Kg7,Bxf4,Re8,Be3,Nd7,Ke2,Nb6,Rhe1,Nd5,Qh6+,Kg8,Kf1,Qf7,c4,Ne7,Kg1,Nf5,Qh3,Qg6,Rf1,Re7,Bc5,Re2,Rac1,b6,Bb4,c5,Bc3,Rae8,Qf3,h5,Qc6,Nh4,g3,R8e6,Qd5,Kh7,Kh1,Nf5,Rce1,h4,Qf3,Rxe1,Bxe1,h3,Qd5,Re2,Qd7+,Kh6,Qxa7,Qe8,Bc3,Qc6+,f3,Ne3,Qf7,Nxf1,Qf8+,Kg6,Qg8+,Kf5', 'Qg4#', 'https://lichess.org/training/gOHH7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gohl1', 'Rapid', 'belanchuk', 1789, 'Tombstalker', 1697, 'd4,e6,c4,c6,Nc3,d5,e4,Bb4,e5,Qa5,Bd2,Ne7,c5,b6', 'a3,bxc5,axb4', 'https://lichess.org/training/gohl1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GoHzr', 'Classical', 'aquaworm', 1678, 'General-X00', 1677, 'd4,Nf6,Nf3,g6,Bg5,Bg7,e3,d6,Bc4,O-O,O-O,Nbd7,Nc3,e5,dxe5,dxe5,Re1,e4,Nd2,h6,Bf4,g5,Bg3,Re8,Nb5,Ne5,Bxe5,Rxe5,f3,exf3,Qxf3,Bg4,Qg3,Rc5,Qf2,Ne4', 'Qxf7+,Kh8,Nxe4', 'https://lichess.org/training/GoHzr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GOItu', 'Bullet', 'ColumCarbon', 1553, 'RobertSe7en', 1538, 'e4,d6,Nf3,Bg4,Be2,Nd7,O-O,e5,d4,Bxf3,Bxf3,Be7,dxe5,Nxe5,Bf4,Nxf3+,Qxf3,Nf6,Nc3,O-O,e5,dxe5,Bxe5,c6,Rad1,Qc8,a3,Nd7,Rfe1,Nxe5,Rxe5,Bf6,Re3,Qc7,Ne4,Bxb2,a4,Rad8,Rde1,f5,Ng5,Bd4,Ne6,Qe7,Nxd4,Qb4,Ne6,Rde8,Nxf8', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/GOItu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('goJvq', 'Rapid', 'ahmedkhater', 2200, 'Markabay', 2104, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,Bb4,Qd3,d6,Bg5,Nbd7,O-O-O,Bxc3,bxc3,Qa5,Qxd6,Qxc3,Bxf6,gxf6,Nh4,Qc5,Nf5,Rg8,Rd5,Qxd6,Nxd6+,Ke7,Nf5+,Kf8,Be2,Rxg2,Bh5,Rxf2,h3,Rf4,Rg1,Rxe4,Rg7,Rf4,Rxf7+,Kg8,Rxf6,Nxf6', 'Rd8+,Ne8,Rxe8#', 'https://lichess.org/training/goJvq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gOKHP', 'Classical', 'Goran33', 1738, 'Vasilaryuk12', 1988, 'e4,c5,Qh5,e6,Nf3,Nf6,Qe5,d6,Bb5+,Bd7,Bxd7+,Nbxd7,Qf4,Qc7,d3,h6,Nc3,a6,h4,b5,Rh3,b4,Na4,e5,Qd2,Nb6,Nxb6,Qxb6,b3,Nh5,Qe2,Nf4,Bxf4,exf4,Nd2,Qd8,Qg4,Qf6,Rf3,g5,Rb1,Be7,h5,Qc3,Kd1,a5,Qf5,Qe5,Qg4,a4,Nc4,Qe6,Qxe6,fxe6,Nb6,Rb8,Nxa4,Bf6,g3,Be5,Nb2,Bxb2,Rxb2,e5,Rb1', 'g4,Rxf4,exf4', 'https://lichess.org/training/gOKHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gokzv', 'Blitz', 'FM Dolgorukij', 2396, 'Maximus234', 2396, 'Nf3,c5,c4,Nf6,Nc3,e6,e3,Nc6,d4,d5,cxd5,exd5,Bb5,Bd7,O-O,cxd4,Nxd4,Bd6,e4,dxe4,Bg5,Be5,Nxc6,Bxc6,Bxc6+,bxc6,Qa4,O-O,Qxc6,Rc8,Qa4,Bxh2+,Kxh2', 'Ng4+,Kg1,Qxg5', 'https://lichess.org/training/gokzv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('goNQV', 'Blitz', 'marwen1', 1610, 'dfadin', 1573, 'e4,e5,d3,h6,f4,exf4,Bxf4,Bc5,Nf3,d6,d4,Bb6,c3,Bg4,Be2,Nf6,O-O,O-O,Kh1,Nxe4,Nbd2,Nxd2,Qxd2,Qf6,Be3,Nd7,h3,Bh5,Nh2,Qe6,Bxh5,Nf6,Bf3,Ne4,Qd3,Ng3+,Kg1,Nxf1,Rxf1,Rae8,Ng4,f5,Nxh6+,gxh6,Bxh6,Rf6,Bg5,Rg6,Bf4,c5,Kh2,cxd4,cxd4,Kg7,d5,Qd7,Qc3+,Kg8,Bh5,Rg7,Bf3,Rh7,b4,Ree7,a3,Rh4,Bg3,Rh8,Qd3,Reh7,b5,f4,Bxf4', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/goNQV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GoO43', 'Classical', 'mronemore', 2131, 'halloway', 1706, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Be7,O-O,Nf6,Re1,b5,Bb3,O-O,c3,d6,d3,Be6,Bc2,h6,Nbd2,Nh7,Nf1,Ng5,Nxg5,Bxg5,Ne3,Ne7,d4,c6,a4,f5,exf5,Nxf5,Nxf5,Bxf5,Bb3+,Kh8,dxe5,dxe5,Qxd8,Bxd8,axb5,cxb5,Rxe5,Bb6,Be3,Bxe3,Rxe3,Rad8,Rae1,Rd2,R3e2,Rd6,Bc2,Bxc2,Rxc2,Rdf6,f3,Kh7,Rce2,Kg6,Re6,Rxe6,Rxe6+,Rf6,Re5,Rf5,Re6+,Rf6,Re2,Rd6,Kf2,Kf5,g4+,Kf6,Kg3,g5,Rc2,Rd3,c4,bxc4,Rxc4,Rd6,Ra4,Rb6,Ra5,Kg7,Ra3,Kf6,Rc3,a5,b3,Ke5,Rc5+,Kf6,Rf5+,Kg6,Rxa5,Rxb3,Ra6+,Kg7,Re6,Rb7,Re3,Rf7,Ra3,Kg6,Ra6+,Kg7,Ra4,Kg6,f4,gxf4+,Rxf4,Rxf4', 'Kxf4,Kf6,h4', 'https://lichess.org/training/GoO43');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Goo8Z', 'Rapid', 'onlysully', 1678, 'Tony-ii', 1660, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,d6,Bc4,Bxf5,exf5,Nf6,O-O,d5,Bb5,Bd6,Bg5,d4,f4,h6,Bh4,Qe7,Re1,e4,Qxd4,O-O,Bxc6,bxc6,Bxf6,gxf6,Rxe4', 'Bc5,Rxe7,Bxd4+,Kf1,Bxb2,Nd2,Bxa1', 'https://lichess.org/training/Goo8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gOosQ', 'Blitz', 'chesstime1111', 2675, 'FM Ratbel', 2461, 'd4,Nf6,Bg5,c6,Nd2,Qb6,Nb3,a5,a4,d5,Nf3,Bf5,e3,Nbd7,Bd3,e6,Bxf5,exf5,O-O,Be7,Ne5,h6,Bxf6,Nxf6,Qd3,g6,c4,Rd8,c5,Qc7,Qd2,Ra8,f3,O-O,Rac1,Rfe8,e4,dxe4,Qxh6,Bf8,Qh4,Bg7,fxe4,Nxe4,Nf3,Rad8,Rce1,Nf6,Ng5,Rxe1,Rxe1,Re8,Rxe8+,Nxe8,Nd2,Qe7,Ndf3,Qe3+,Qf2,Qc1+,Qf1,Qxb2', 'Qc4,Nf6,Qxf7+', 'https://lichess.org/training/gOosQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GOoZK', 'Bullet', 'ivan62', 1640, 'Vasiliyzvasiliy', 1677, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,h6,Bxf6,Bxf6,Nf3,c6,Rc1,O-O,Bd3,Nd7,O-O,Re8,e4,dxc4,Bxc4,e5,d5,Nb6,Bb3,cxd5,Nxd5,Nxd5,Bxd5,Rb8,Qc2,Bg4,Qc7,Bxf3,Qxf7+,Kh8,gxf3,Re7,Qg6,b6,Kh1,Bg5,Rc2,Rc8,Rxc8,Qxc8,Rg1,Qh3,Rg3,Qf1+,Rg1,Qxf2,Rxg5,hxg5,Qxg5,Qxf3+,Kg1,Qd1+,Kg2,Qe2+,Kg3,Qe1+,Kg2,Qe2+,Kg3,Re8', 'Qh4+,Qh5,Qxh5#', 'https://lichess.org/training/GOoZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GoP8P', 'Blitz', 'K4rl0sgame', 1630, 'learner7', 1654, 'e4,d6,d4,Nf6,Nc3,a6,Bc4,e6,Nf3,b5,Bb3,b4,Na4,Nxe4,O-O,Bb7,Re1,Be7,c3,bxc3,bxc3,O-O,Bc2,d5,c4,Bb4,Re2,Nc3,Nxc3,Bxc3,Rb1,Bc6,Bxh7+,Kxh7,Qd3+,f5,Qxc3,Nd7,Ng5+,Kg8,Nxe6,Qe7,Nxf8,Qxe2,Nxd7', 'Qd1+,Qe1,Qxe1#', 'https://lichess.org/training/GoP8P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('goPIB', 'Rapid', 'adechess', 1792, 'R1TCH1E', 1617, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Ne5,Bf4,Bd6,Nf5,Qf6,Nxd6+,Qxd6,Qxd6,cxd6,Nc3,Nf6,O-O-O,Neg4,Bg3,O-O,Rxd6,b6,e5,Nh5,h3,Nxg3,fxg3,Nxe5,Nd5,Rb8,Ne7+,Kh8,Nxc8,Rbxc8,Rd5,Rfe8,h4,f6,h5,g6,hxg6,Nxg6,Rxd7,Re1+,Kd2,Ra1,Rhxh7+,Kg8,Rhg7+,Kf8,Rxg6,Rxf1,Rgg7,Rf2+,Ke3,Rcxc2,Rdf7+,Ke8,Re7+,Kd8,Rgf7', 'Rce2+,Kd3,Rxe7', 'https://lichess.org/training/goPIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gOQIs', 'Blitz', 'Duduk379', 1779, 'charjc', 1558, 'd4,b6,c4,Bb7,Nc3,e6,a3,Nf6,f3,d5,cxd5,exd5,Bg5,Be7,Bxf6,Bxf6,e4,dxe4,fxe4,O-O,e5,Re8,Nf3,c5,Bb5,Bc6,Bxc6,Nxc6,Nb5,Nxd4,Nfxd4,Rxe5+,Ne2,Qe8,Nc3,Re3,O-O,Bxc3,Nxc3,Rd8,Qg4,Re7,Rad1,Rxd1,Rxd1', 'Re1+,Kf2,Qe3#', 'https://lichess.org/training/gOQIs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GORbE', 'Blitz', 'mate26', 1881, 'ODLINAV', 1901, 'e4,e5,Nf3,Nc6,c3,Bc5,d4,exd4,cxd4,Bb6,Nc3,d6,Bb5,Bd7,O-O,h6,Be3,Nge7,Re1,O-O,Qd2,Bg4,Nh4,Kh7,Bd3,f5,exf5,Bxf5,Nxf5,Nxf5,g4,Ne7,gxf5,Nxf5,Bxf5+,Rxf5,Qd3,Qf6,Nd5', 'Qg6+,Kh1,Rxd5,Qxg6+,Kxg6', 'https://lichess.org/training/GORbE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gorXX', 'Rapid', 'shahryar_baba', 1676, 'enelas', 1629, 'd4,d5,c4,Nf6,Nc3,e6,a3,c5,e3,Nc6,dxc5,Bxc5,cxd5,exd5,Bb5,O-O,Nf3,a6,Bxc6,bxc6,O-O,Re8,Re1,Bg4,h3,Bxf3,Qxf3,Rc8,Bd2,d4,exd4,Bxd4,Rxe8+,Qxe8,Re1,Qd8,g4,Qb6,Nd1,Bxb2,Nxb2,Qxb2,Rd1,Rd8,Bc1,Rxd1+,Qxd1,Qb8,Bf4,Qe8,g5,Nd5,Bh2,Nc3,Qd2,Ne4,Qe2,c5,f3,Nd6,Qxa6,Qe3+,Kg2,Qxg5+,Kf2,Qh4+,Bg3,Qd4+,Kg2,Qd2+,Bf2,Qg5+,Bg3,Qd2+,Bf2,Qg5+,Kf1,Qc1+,Be1,Qc4+,Qxc4,Nxc4,a4,Ne3+,Ke2,Nd5,a5,c4,a6,Nc7,a7,Kf8,Bc3,Ke8,Ke3,Kd8', 'Ba5,Kc8,Bxc7', 'https://lichess.org/training/gorXX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GORyF', 'Blitz', 'nmiq', 2298, 'ALI_Espanol', 2182, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nxc6,bxc6,Nc3,g6,Bc4,Bg7,O-O,e6,Qf3,Ne7,Bf4,O-O,Rad1,d5,Rfe1,Qb6,Bb3,a5,Bd6,Re8,Na4,Qb5,c4,dxc4,Bxe7,cxb3,axb3,Rxe7,Rd8+,Bf8,Qf6,Qb4', 'Rxf8+,Kxf8,Qh8#', 'https://lichess.org/training/GORyF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('goSUu', 'Blitz', 'FM Cafeschopenhauer', 2376, 'CM Kingscrusher-YouTube', 2372, 'd4,Nc6,Nf3,d6,d5,Nb8,g3,g6,Bg2,Bg7,O-O,Nf6,Nc3,O-O,Bg5,a5,Qd2,Na6,Bh6,Nc5,Bxg7,Kxg7,Rfe1,e5,dxe6,fxe6,a3,a4,e3,e5,Nd5,c6,Nxf6,Qxf6,Rf1,d5,Qc3,Nd7,e4,d4,Qd2,h6,Ne1,b6,Nd3,Ba6,f3,c5,Rf2,g5,Bh3,Bc8,b3,axb3,cxb3,Rf7,a4,Nf8,Bxc8,Rxc8,a5,b5,a6,c4,bxc4,bxc4,Nb4,c3,Qd3,Ra8,Nd5,Qd6,f4,gxf4,gxf4,Kh7,Kh1,exf4,Qxd4,Ng6,Qxc3,Rxa6,Rg1,Qe5,Qc8,Qxe4+,Rfg2,Qxd5,Qxa6,Rg7,Qe2', 'f3,Qd2,fxg2+', 'https://lichess.org/training/goSUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GOTp8', 'Rapid', 'roroman', 1861, 'ourleo', 1764, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,a3,d6,h3,Be6,Ba2,Bxa2,Rxa2,O-O,Ra1,Nd4,Rh2,c6,d3,Nh5,Be3,Nf4,Bxf4,exf4,Nxd4,Bxd4,Qd2,Qf6,Ke2,d5,Rf1,dxe4,Nxe4,Rfe8,c3,Qe5,f3,Bb6,Kd1,Be3,Qe2,Qb5,Kc2,Qa4+,Kb1,b5,Qc2,Qa6,d4,Qb6,Ng5,g6,Ne4,a5,Nf6+,Kf8,Nxe8,Rxe8,Rhh1,c5,dxc5,Qxc5,Qb3,Rc8,Rd1,Kg7,Rd7', 'Qf5+,Ka2,Qxd7', 'https://lichess.org/training/GOTp8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GoTWj', 'Rapid', 'NAPOIV', 1804, 'aubrey', 1800, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Be7,Nc3,Nf6,O-O,O-O,Bb5,a6,Bxc6,bxc6,fxe5,dxe5,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/GoTWj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GOu1q', 'Rapid', 'The_Existentialist', 1637, 'Tanmaye', 1622, 'e4,e6,Nc3,d5,exd5,exd5,d4,Bd6,Nf3,c6,Bg5,Nf6,Be2,Bf5,Nh4,Bg6,Nxg6,hxg6,Qd3,Nbd7,h3,Qe7,O-O-O,O-O-O,Nb5,Kb8,Nxd6,Qxd6,g3,Ne4', 'Bf4,Qxf4+,gxf4', 'https://lichess.org/training/GOu1q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gowuo', 'Rapid', 'Jean-Patrick', 1885, 'Maxaloy', 1870, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nc3,Be7,Bg5,d5,Bxf6,Bxf6,exd5,exd5,Nxd5,O-O,O-O,Bxd4,Qxd4,Nc6,Qd1,Be6,Bb3,Rc8,Qf3', 'Nd4,Qh5,Nxb3', 'https://lichess.org/training/Gowuo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GOXh1', 'Blitz', 'Capablancaa21', 2159, 'IM MATALON', 2355, 'Nf3,Nf6,b4,g6,Bb2,Bg7,c4,O-O,e3,d6,Nc3,e5,b5,h6,Be2,c6,O-O,Re8,a4,d5,cxd5,cxd5,Qb3,e4,Nd4,Nbd7,f4,Nc5,Qc2,b6,Ba3,Bg4,Bxg4,Nxg4,Nc6,Qh4,h3,Nf6,Bxc5,bxc5,f5,Nh5,fxg6,fxg6,Ne2,Bxa1,Rxa1,Rf8,Qxc5,Qf2+,Kh1,Qxe2,Qxd5+,Kh8,Qd4+,Ng7,Qxe4,Rf1+,Rxf1,Qxf1+,Kh2,Rf8,Qxg6,Rf6,Qg3,Qe2,Qb8+,Kh7,Qe5,Rg6,Qe4,Qxd2,Ne5,Qd6,Kg1,Nh5,Nxg6,Qxg6,Qe7+,Qg7,Qe4+,Kg8,Qe8+,Qf8,Qe6+,Kg7', 'Qg4+,Kh7,Qxh5', 'https://lichess.org/training/GOXh1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('goxKZ', 'Rapid', 'ST005', 1980, 'Yamalol', 1868, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,exd4,cxd4,d6,O-O,Bd7,Nc3,Nf6,e5,dxe5,dxe5,Ng8,Re1,Be6,Qb3,Bxc4,Qxc4,Qd7,Be3,Qe6,Qa4,a6,Rad1,Rd8,Rxd8+,Bxd8,Rd1,Ne7,Bg5,O-O,Qh4,Ng6,Qg3,Bxg5,Qxg5,h6,Qg3,Ncxe5,Nd4,Qg4,Qe3,Re8,h3,Qf4,Qe2,Qf6,g3,c5,Ne4,Qe7,Nf5,Qc7,f4,Nc6', 'Nf6+,gxf6,Qxe8+', 'https://lichess.org/training/goxKZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gOZaQ', 'Rapid', 'tobi_sobi', 1787, 'sportowiec', 1833, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nc3,a6,Nxc6,bxc6,Bc4,g6,Be3,Bg7,O-O,a5,Qd2,Rb8,b3,Qc7,Ne2,Bxa1,Rxa1,Nf6,Bh6,Ng4,Bg7,Rg8,Bb2,d5,exd5,Qxh2+,Kf1,Qh1+,Ng1,Nh2+,Ke2,Qxg2,Qf4,Rd8,dxc6,Bg4+,Ke3,Bf5,c7,Rc8,Bb5+,Kf8', 'Qh6+,Rg7,Qxg7#', 'https://lichess.org/training/gOZaQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gOzau', 'Classical', 'ivanovvladimir', 1715, 'HAAH99', 1772, 'd4,d5,c4,e6,Nf3,Nf6,e3,Be7,a3,a5,Nc3,O-O,Bd3,c5,O-O,Nc6,cxd5,exd5,dxc5,Bxc5,h3,Re8,Qc2,d4,exd4,Nxd4,Nxd4,Bxd4,Bg5,h6,Bh4,Qb6,Rab1,Bd7,Bxf6,Bxf6,Nd5,Qd6,Nxf6+,Qxf6,Be4,Rac8,Qd3,Bc6,Bxc6,Qxc6,Rbc1,Qb6,Rxc8,Rxc8,b3,Rd8,Qc2,Qd6,Re1,Qxa3,Qc7,Qd6', 'Re8+,Rxe8,Qxd6', 'https://lichess.org/training/gOzau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gP1tm', 'Blitz', 'DiSheff', 1783, 'prentice_sloth', 1842, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bg5,O-O,e3,c5,Bxf6,Bxf6,dxc5,Qa5,cxd5,Bxc3+,bxc3,Qxc3+,Nd2,exd5,Rc1,Qa3,Qb3,Qa5,Bd3,Be6,Qc2,h6,O-O,Nc6,Nb3,Qd8,Bf5,Rc8,Bxe6,fxe6,Qg6,Ne5,Qxe6+,Nf7,Rfd1,Re8,Qxd5,Qf6,Nd4,Re5,Qxb7,Rf8,Qf3,Qg6,c6,Nd6,Qh3,Qf6,Nf3,Ne4,c7,Ng5,Nxg5,Qxf2+,Kh1,Rxg5,c8=Q,Rxc8,Rxc8+,Kh7,Rg1,Qxa2,Qd7,Qb2,Qxa7,Qf6,Rc7,Rg6,Qb7,h5,e4,h4,Rf7,Qg5,Qe7,Qg4,e5,h3,Rf2,hxg2+,Rfxg2,Qe4,Qe8,Rh6,e6', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/gP1tm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gp3LW', 'Blitz', 'FM ArdianJashari', 2389, 'cristofer_escobar', 2077, 'd4,e6,c4,d5,Nc3,f5,Nf3,Nf6,Bg5,Be7,Rc1,c6,e3,Nbd7,Bd3,O-O,O-O,Ne4,Bxe7,Nxc3,Bxd8,Nxd1,Be7,Nxb2,Bb1,Re8,Bh4,Nxc4,a4,a6,Bg3,b5,Ba2,Bb7,Rfd1,Nf6,Ne5,Ne4,Nxc4,dxc4,Be5,Kf7,Rb1,Nf6,Bxc4,Nd5,Rdc1,g5,h3,h5,Rc2,Rg8,Bxd5,exd5,a5,Ke6,Rbc1,Rac8,Kh2,h4,Rc5,g4,R5c2,Kd7,hxg4,fxg4,Bf6,g3+,fxg3,hxg3+,Kg1,Rcf8,Be5,Rf5,Bf4,Re8,Rc3,Re4,Bxg3,Rg5,Bf4,Rg4,g3,Re8,Kg2,Rh8,Kf3,Rgg8,R3c2,Rh3,Rg2,Rg6,Rcc2,b4,Rb2,c5,Rh2,Rxh2,Rxh2,c4', 'Rh7+,Kc6,Rc7+,Kb5,Rxb7+', 'https://lichess.org/training/Gp3LW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gp3N9', 'Rapid', 'cavagrande', 1697, 'AdamAhme', 1649, 'c4,c5,Nc3,d6,e3,g6,g3,Bg7,Nge2,Nf6,Bg2,Nc6,Nd5,O-O,Nec3,Be6,Nxf6+,Bxf6,d3,Qc7,Rb1,a6,Nd5,Bxd5,Bxd5,e6,Bg2,Ne5,a3,Rad8,b4,b5,bxc5,dxc5,Be4,Nxc4,O-O,Ne5,f4,Ng4,Qxg4,h5,Qf3,c4,dxc4,Qxc4,Bb2,Be7,Rfc1,Qa4,Bc2,Qa5,Be4,Bxa3,Bxa3,Qxa3,Ra1,Qd6,Rc6,Qd7,Raxa6,Rb8,Rd6,Qc7,Qd1,Rfd8,Rxd8+,Rxd8,Ra8,Rxa8,Bxa8,b4,Qb1,Qc3,Kf2,f5,h4,b3,Bf3', 'Qc2+,Qxc2,bxc2', 'https://lichess.org/training/gp3N9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GP4qC', 'Rapid', 'Horst_Schlemmer', 1747, 'Flyne_Elaske', 1774, 'd4,Nf6,Bf4,d5,e3,Bf5,Nf3,e6,c3,Bd6,Ne5,Nbd7,Nd2,O-O,h3,c5,Bb5,Nb6,g4,a6,Be2,Bg6,h4,c4,h5,Bd3,h6,g6,Bg5,Be7,Rg1,Ne4,Bxe7,Qxe7,Nxe4,Bxe4,g5,f6,f3,Bf5,Ng4,fxg5,Ne5,Nd7,Nxd7,Qxd7,Rxg5,Qe7,f4,Be4,Kd2,Rf5,Rg4,Rh5,Bf3,Bd3,Qg1,Rxh6,Qg2,Kh8,Rg1,Bf5,Rg5,b5,Bg4,Be4,Bf3,Bxf3,Qxf3,Rh2+,Ke1,Rxb2,R5g2,Qh4+,Qg3,Rb1+,Kf2,Qxg3+,Rxg3,Rb2+,Kf3,Rxa2,Rh1,Rg8,Rh6,Ra3,f5,exf5,Kf4,Rxc3,Ke5,f4,Kxf4,b4,Ke5,b3,Kf6,b2', 'Rxh7+,Kxh7,Rh3#', 'https://lichess.org/training/GP4qC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gP4zs', 'Rapid', 'Igiggs', 1606, 'STAR69', 1854, 'e4,c5,Nf3,d6,d4,cxd4,c3,dxc3,Nxc3,a6,Bc4,e6,O-O,Be7,Qe2,Nf6,Be3,O-O,Rfd1,e5,Nxe5,Qc7,Nf3,Be6,Bxe6,fxe6,h3,Nc6,Rac1,Rad8,Na4,Qb8,Nb6,h6,Qc2,Rf7,a3,Bf8,Bf4,e5,Be3,Nd7,Nd5,Ne7,Qb3,Rc8,Ba7,Qxa7', 'Nxe7+,Bxe7,Rxc8+', 'https://lichess.org/training/gP4zs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gP5py', 'Rapid', 'Byaliemir33', 1635, 'iskren', 1667, 'e4,e6,Nc3,b6,Nf3,Ba6,Bxa6,Nxa6,O-O,Bb4,a3,Bxc3,bxc3,f6,d3,Ne7,Bf4,O-O,Nd4,e5,Bg3,exd4,cxd4,c6,Qh5,d5,exd5,Nxd5,Rae1,Nac7,Re4,Nc3,Rh4,h6,Qg6,Qe8,Qf5,Qe7,Qg4,Kh8,Bf4,f5,Qh5,Qf6,h3,Ne6,Bxh6,Qxh6,Qxh6+,gxh6,Rxh6+,Kg7,Rxe6,Rae8,Rxc6,Ne2+,Kh1,Nxd4,Rc4,Ne6,Rh4,Kg6,f4,Nd4,c3,Ne2,Rf3,Nxc3,Rg3+,Kf6,Rh6+,Ke7,Rg7+,Rf7,Rgg6,Nd5,Re6+,Kd7', 'Rd6+,Kc7,Rxd5', 'https://lichess.org/training/gP5py');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gp6no', 'Rapid', 'ProdigioDeCaicoRN', 1913, 'azuaga', 2017, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Bd3,Nf6,Bxh7,Nxh7,c3,Nd7,Nf3,e6,Be3,Be7,Qd3,Ng5,Nxg5,Bxg5,Bxg5,Qxg5,Ne4,Qxg2,O-O-O,f5,Nd6+,Ke7,Nxb7,Qxf2,Rhf1,Qh4,Rde1,Kf6,Rxe6+,Kxe6', 'Qxf5+,Ke7,Qf7#', 'https://lichess.org/training/Gp6no');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gP7AV', 'Classical', 'Kasaso', 1750, 'VanUrk', 1878, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,c4,Nf6,Nc3,O-O,Be2,Nc6,Nxc6,bxc6,Be3,Be6,a3,d5,e5,Nd7,cxd5,cxd5,Bd4,c5,Nxd5,Bxd5,Bxc5,Bxc5,Qxd5,Re8,O-O,Rxe5,Qf3,Nf6,Rad1,Qe8,Bc4,Rc8,Ba2,Ne4,b4,Bxf2+,Kh1,Bb6', 'Bxf7+,Kh8,Bxe8', 'https://lichess.org/training/gP7AV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gP7f3', 'Classical', 'guitarchris3', 1615, 'Catlaksapan', 1677, 'd4,d5,c4,b6,e3,Ba6,Nd2,g6,Ngf3,Bg7,cxd5,Bxf1,Nxf1,Qxd5,b3,Nh6,N1d2,O-O,O-O,Nc6,Nc4,b5,e4,Qxe4,Re1,Qd5,Ne3,Qd7,Bb2,Rad8,d5,Bxb2,dxc6,Qxd1,Rexd1,Bxa1,Rxa1,Rd6,Rc1,f6,h3,Rb8,g4,Rb6,g5,Nf5,Nxf5,gxf5,gxf6,Rxf6,Ne5,Re6,Rc5,Kg7,f4,Kh6,Kg2,Kh5,Kg3,a5,h4,a4,b4,Rd6,a3,Rd1,Kh3,Rh1+,Kg3,Rxh4,Nd7,Ra6', 'Rxf5+,Kg6,Rg5+', 'https://lichess.org/training/gP7f3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gpB3u', 'Blitz', 'lipkerson', 1578, 'adriantomole', 1595, 'd4,d5,c4,Nf6,Nc3,g6,e3,Bg7,Qc2,O-O,Bd3,dxc4,Bxc4,Nc6,a3,Bf5,Bd3,Bxd3,Qxd3,Ne5,Qc2,Neg4,f3,Nh6,g4,g5,Nge2,Qd6,e4,e5,Nb5,Qb6,a4,exd4,Nbxd4,Rad8,Bxg5,Rxd4,Nxd4,Qxd4,Rd1,Qb4+,Bd2,Qb6,h4,Nhxg4,fxg4,Nxg4,Bf4,Bd4,Qg2,Bf2+,Kf1', 'Qa6+,Rd3,Qxd3#', 'https://lichess.org/training/gpB3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gPbRF', 'Rapid', 'AdrianoNunesFX', 1817, 'KievUA', 1759, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Nc3,Nc6,Bb5,Nxd4,Qxd4,Nf6,O-O,Be7,Bg5,O-O,Rfe1,Bxb5,Nxb5,a6,Nc3,Nd7,Bxe7,Qxe7,Nd5,Qd8,Re2,Re8,Rae1,Ne5,f4,Nc6,Qd3,Qd7,e5,dxe5', 'Nf6+,gxf6,Qxd7', 'https://lichess.org/training/gPbRF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GPc0i', 'Blitz', 'FM carloseduar100', 2153, 'Dchamp123', 2323, 'g3,c6,Bg2,g6,Nf3,Bg7,O-O,Nf6,d3,O-O,Nbd2,d5,Re1,Nbd7,c3,e6,e4,b6,e5,Ne8,d4,Bb7,Qe2,Rc8,Nf1,c5,h4,Nc7,N1h2,Ba6,Qe3,h5,Qf4,cxd4,cxd4,Nb5,Ng5,Rc4,Be3,Nxe5,b3,Nd3,Qf3,Nxe1,Rxe1,Rc3,Qd1,Qc8,g4,hxg4,Qxg4,Nd6,h5,Nf5,hxg6,fxg6,Qh3,Bh6,Nhf3,Bd3,Nxe6,Qxe6', 'Bxh6,Be4,Bxf8', 'https://lichess.org/training/GPc0i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gpd4U', 'Classical', 'goara2006', 1945, 'Quarsx', 2051, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Be7,e3,O-O,Bd3,dxc4,Bxc4,c5,O-O,cxd4,Qxd4,Nc6,Qxd8,Rxd8,b3,a6,Bb2,b5,Be2,Bb7,Rfd1,h6,h3,Bb4,a3,Ba5,b4,Bb6,Bd3,Rd7,Ne4,Nd5,Rac1,Rad8,Be2,f6,Nc5,Bxc5,Rxc5,Kf7,Nd4,Nde7,Rdc1,Nxd4,Bxd4,Nf5,Rc7,Nxd4,exd4,Bd5,Rc8,Rxc8,Rxc8,Be4,f3,Bb1,Rc6,Ra7,Kf2,Ba2,Ke3,Ke7,g4,Kd7,Rb6', 'Kc7,Rxb5,axb5', 'https://lichess.org/training/Gpd4U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gpG4k', 'Blitz', 'niveKKevin', 2142, 'BUGIOkg', 1999, 'd4,Nf6,Nf3,g6,c4,d5,Nc3,Bg7,e3,c6,Qc2,dxc4,Bxc4,Nbd7,O-O,Nb6,Bd3,Nbd5,e4,Nxc3,bxc3,O-O,h3,Qa5,c4,Nd7,e5,c5,Bb2,cxd4,Bxd4,Nxe5,Nxe5,Bxe5,Bxe5,Qxe5,Rae1,Qg5,f4,Qc5+,Kh1,Bd7,f5,Bc6,Qe2,Rad8,Bb1,Rd4,fxg6,hxg6,Bxg6,fxg6,Qe6+,Kg7,Rxf8,Kxf8,Rf1+,Kg7,Rf7+,Kh6,Qe3+,g5', 'Qe6+,Kh5,Rh7#', 'https://lichess.org/training/gpG4k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gpgcF', 'Blitz', 'NurmagomedOmarov97', 2389, 'FM slamdunk4', 2386, 'e4,c6,d4,d5,Nc3,dxe4,Bc4,Nf6,f3,exf3,Nxf3,e6,O-O,c5,d5,exd5,Nxd5,Be6,Nxf6+,gxf6,Qe2,Qb6,Be3,Nd7,b4,Bxc4,Qxc4,Qxb4,Qd5,Qb6,Rfe1,O-O-O,Bf4,Ne5,Qe4,Nxf3+,Qxf3,Bd6,Rab1,Qc6,Qg4+,Kb8,Bxd6+,Qxd6,Qf3,Qd5,Qf4+,Ka8,c4,Qd4+,Qxd4,cxd4,Re7,b6,c5,d3,cxb6,d2,Rd1,axb6,Rxf7,Rd6,Kf1,h5,Ke2,Rhd8,Kf2,h4,Rh7,Rd4,Rh6,Rf4+,Kg1,Rdd4,g3,Rfe4,Kf2,hxg3+,hxg3,Re5,Rxf6,Ra5,Rxb6,Rxa2,Rb3,Rd8,Kg2,Rc2', 'Ra1+,Ra2,Rxa2#', 'https://lichess.org/training/gpgcF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gpGDJ', 'Rapid', 'frankmoses', 1809, 'Asphyxia1', 1812, 'e4,e5,f4,exf4,Nf3,Be7,h4,d6,Nc3,Nc6,d4,Bg4,Be2,Qd7,d5,Bxf3,Bxf3,Ne5,Bxf4,Nxf3+,Qxf3,O-O-O,O-O-O,Nf6,e5,dxe5,Bxe5,Bb4,Bxf6,gxf6,Qxf6,Qg4,Nb5,Qc4,Qf5+,Kb8,Qd3,Qxa2,c3,Qa1+,Kc2,Qa4+,Kb1,Bd6,Nxd6,Rxd6,Rhe1,a6,Re7,Qb3,Qd4,Rhd8,Rxf7', 'Rxd5,Qxd5,Rxd5,Rf8+,Ka7,Rxd5,Qxd5', 'https://lichess.org/training/gpGDJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GpHPm', 'Rapid', 'Barlg', 1909, 'Gerardomejorsi', 1763, 'c4,e5,g3,Nc6,Bg2,Nf6,Nc3,a6,e3,d6,Nge2,Be6,b3,d5,cxd5,Nxd5,Bb2,Nxc3,Nxc3,Be7,O-O,O-O,Ne4,Qd7,Rc1,Bh3,Nc5,Bxc5,Rxc5,Bxg2,Kxg2,Rfe8,d4,b6,Rc4,b5,Rc5,exd4,Qd3,Rad8,Rd1,Qg4', 'Rxc6,dxe3,Qxd8', 'https://lichess.org/training/GpHPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gpjiy', 'Rapid', 'klimemerg', 1898, 'asturdainty', 1831, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,Bd7,Bxd7+,Nxd7,d3,Be7,Ne4,b6,Bd2,O-O,Bxa5,bxa5,c4,f5,Ng3,Bc5,O-O,Nf6,Nc3,a6,Qa4,f4,Nge4,Nxe4,Nxe4,Bb6,c5,Ba7,Qxa5,Qxd5,Qxc7,Qxd3,Qxe5,Rae8,Qc7,Bb8,Qc6,Rxe4,Rfd1,Rfe8', 'Qxe8+,Rxe8,Rxd3', 'https://lichess.org/training/Gpjiy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gpjlA', 'Blitz', 'Vendetta2020', 1804, 'georgiaaa', 1810, 'e4,e5,Nc3,Nf6,Qf3,Nc6,Qg3,d6,Be2,Be6,d3,Qd7,f4,exf4,Bxf4,O-O-O,O-O-O,Kb8,Be3,Be7,Nb5,a6,Nd4,Nxd4,Bxd4,Bxa2,Nh3,Be6,Bg1,Qa4,Qe3,d5,Qa7+,Kc8,exd5,Nxd5,Kd2,Bxh3,gxh3,Bg5+,Ke1,Qb4+,c3,Qxb2', 'Bg4+,f5,Bxf5+,Rd7,Qa8#', 'https://lichess.org/training/gpjlA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gpkXv', 'Classical', 'Gautam_kashyap', 1624, 'iPrest0', 1604, 'e4,e5,Nf3,d6,Nc3,Bg4,Bc4,Nf6,h3,Be6,Nd5,c6,Nxf6+,Qxf6,Bxe6,Qxe6,d4,exd4,Nxd4,Qxe4+,Ne2,d5,f3,Qb4+,c3,Qa5,Bd2,Bc5', 'b4,Qa6,bxc5', 'https://lichess.org/training/gpkXv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GPmWU', 'Rapid', 'AlexxxGeorge', 1732, 'guagum', 1799, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Nc3,Qa5,h3,Qh5,hxg4,Qxh1,Nb5,Na6,d4,O-O-O,Nxa7+,Kb8,Nc6+,bxc6,Qd3,Nb4,Qb3,e6,a3,Kc8,axb4,Nf6,Qc4,Kd7,Ne5+,Ke8,Nxc6,Rc8,Ne5,Bd6,Qc6+,Ke7,g5,Rhd8,gxf6+,gxf6,Nc4,Qh4,Ra7,Qxd4,Be3', 'Bxb4+,Nd2,Bxd2+', 'https://lichess.org/training/GPmWU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GPO9c', 'Rapid', 'mooe', 1866, 'Madcrown', 1817, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nge2,c5,Be3,Qb6,Na4,Qa5+,c3,cxd4,Bxd4,Nc6,b4,Qc7,f4,Nxd4,Nxd4,a6,a3,b5,Nb2,Qxc3+,Qd2,Qxd2+,Kxd2,Nb6,a4,Nc4+,Nxc4,bxc4,Rb1,Rb8,b5,axb5,Nxb5,Rb7,Be2,Bc5,a5,O-O,a6,Rb8,a7,Ra8,Ra1,Bd7,Rhb1,Bxb5,Rxb5,Rxa7,Rxa7,Bxa7,g4,Rc8,f5,c3+,Kc2,exf5,gxf5,d4,e6,fxe6,fxe6,Re8,Bc4,Kf8', 'Rf5+,Ke7,Rf7+,Kd6,Rxa7', 'https://lichess.org/training/GPO9c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gpPbh', 'Blitz', 'Nauel', 1985, 'Hansamweiher', 1945, 'd4,Nf6,c4,Nc6,d5,Ne5,b3,e6,f4,Neg4,h3,Bb4+,Bd2,Ne3,Qc1,Ne4,Bxb4', 'Qh4+,g3,Qxg3#', 'https://lichess.org/training/gpPbh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gppdR', 'Rapid', 'bezec1', 1849, 'mvicente34', 1839, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Nxe5,d5,exd5,Bxc3,dxc3,Qe7,Qe2,Nxd5,Bd2,O-O,O-O-O,Re8,f4,f6,Ng4', 'Qxe2,Bxe2,Rxe2', 'https://lichess.org/training/gppdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GPPJC', 'Rapid', 'HerrRossi', 1948, 'wqie2183', 2040, 'e4,e6,Nf3,c5,d4,Nc6,Bb5,Nf6,Bxc6,bxc6,Bg5,Qa5+,Qd2,Qxd2+,Nbxd2,cxd4,Bxf6,gxf6,Nxd4,Ba6,O-O-O,Rb8,Rhe1,Rg8,g3,Rg5,f4,Rh5,N2f3,Ra5,a3,c5,Ne2,Rab5,b3,c4,Ned4,Bxa3+,Kb1,R5b7,Ka2,Bb4,Re3,cxb3+,cxb3,Bc5,e5,f5,Rc3,Be7,Rdc1,Kf8,Rc7,h6,Nd2,f6,Rc8+,Rxc8,Rxc8+,Kf7,N2f3,Rxb3,Rh8,Ra3+,Kb2,Kg7,Re8,Bc5,Rd8,Rxf3,Rxd7+,Kg6,Nxf3,Bb5,Rc7,Bb6,Nh4+,Kh5,Rb7,fxe5,fxe5,Bc4,Kc3,Bd5,Rd7,Bg1,h3,Bf2,Rxd5,exd5,e6,Bc5,Nxf5,Kg5', 'e7,Bxe7,Nxe7', 'https://lichess.org/training/GPPJC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gPszz', 'Rapid', 'dano63', 1767, 'Andreas_Roepert_GM', 1832, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Nf6,a3,Nc6,h3,e5,dxe5,Nxe5,Bg5,d4,Ne4,h6,Bxf6,gxf6,Nf3,Qb6,Qxd4', 'Nxf3+,exf3,Qxd4', 'https://lichess.org/training/gPszz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gPTfG', 'Rapid', 'Neuron4', 2144, 'BPSB', 2066, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,Nc3,O-O,e3,Nbd7,cxd5,exd5,Rb1,c6,b4,Ne4,Bxe7,Qxe7,Qc2,Nxc3,Qxc3,Re8,b5,c5,dxc5,Nxc5,Be2,Ne4,Qd4,Nf6,O-O,Bf5,Rb2,Rad8,Bd3,Bxd3,Qxd3,Qe4,Qa3,Ng4,Rb4,d4,Nxd4,Nxh2,Kxh2,Rd6,Rh1,Rg6,Nf3,Qc2,Qb2', 'Rh6+,Nh4,Rxh4+,Rxh4,Qxb2', 'https://lichess.org/training/gPTfG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GPtHf', 'Rapid', 'heart66', 1864, 'vesseli', 1929, 'e4,d6,d4,Nf6,Nc3,Nbd7,f4,e5,fxe5,dxe5,dxe5,Nxe5,Qxd8+,Kxd8,Nf3,Nxf3+,gxf3,c6,Bg5,Kc7,O-O-O,Bb4,Bf4+,Kb6,Na4+,Ka5,b3,b5,Bc7+,Ka6,c3,Be7,Bd6,Re8,Bxe7,Rxe7,Rd6,Kb7,Nc5+,Kc7,e5', 'Rxe5,Rxf6,gxf6', 'https://lichess.org/training/GPtHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gptPR', 'Rapid', 'Bilka111', 1697, 'itxSMG', 1686, 'd4,d5,c4,Bf5,Nc3,e6,Nf3,c6,Bg5,Nf6,e3,Be7,h3,Nbd7,Be2,Ne4,Bxe7,Qxe7,Nd2,Nxc3,bxc3,Qa3,Qb3,Qxb3,axb3,O-O,cxd5,exd5,c4,dxc4,bxc4,Nf6,Bf3,Rfe8,c5,a6,O-O,Bd3,Rfe1,Bb5,e4,Rad8,Nb3,Bd3,Na5,Rxd4,Nxb7,Nxe4,Bxe4,Rdxe4,Red1,Rd4,Rxa6', 'Bxa6,Rxd4,Bxb7', 'https://lichess.org/training/gptPR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gPucI', 'Rapid', 'penpalrdro', 1863, 'Jurij', 1940, 'c4,Nf6,Nc3,e6,g3,d5,d4,c5,Nf3,cxd4,Nxd4,Nc6,Bg2,Bc5,Nxc6,bxc6,O-O,O-O,Na4,Be7,Be3,Ng4,Bc5,Ne5,Bxe7,Qxe7,cxd5,cxd5,Qd4,Nc6,Qc5,Qxc5,Nxc5,Rb8,b3,Ne5,Rac1,Rd8,Rfd1,Nd7,e4,dxe4,Bxe4,Kf8,Bc6,Ke7,Ba4,Nxc5,Rxd8,Kxd8,Rxc5,Rb7,Rc1,Rc7,Rd1+,Ke7,Rd2,a5,f4,Bb7,Kf2,Bd5,Ke3,f6,Kd3,Kd6,Rc2', 'Be4+,Kxe4,Rxc2', 'https://lichess.org/training/gPucI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GpUNf', 'Rapid', 'cilbow', 1610, 'gegana', 1604, 'e4,a6,Nf3,Nc6,d4,h6,d5,Na7,a4,Nf6,Bd3,d6,O-O,e5,dxe6,Bxe6,e5,dxe5,Nxe5,Bd6,Bf4,Bxe5,Bxe5,O-O,Nc3,c5,Qf3,Nc6,Bxf6,Qxf6,Qxf6,gxf6,b3,Kh8,Ne4,f5,Nxc5,Rab8,Rfe1,Rg8,Nxe6,fxe6,Rxe6,Kg7,Bxf5,Nd4,Rg6+,Kf8,Rxg8+,Kxg8,Be4,Rd8,c4,Nxb3,Bd5+', 'Rxd5,cxd5,Nxa1', 'https://lichess.org/training/GpUNf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GpvIX', 'Blitz', 'tfkarimov', 1608, 'alfredsht', 1636, 'e4,e5,Nf3,Nc6,g3,d6,Bg2,Bg4,d3,Nf6,Nbd2,d5,exd5,Nxd5,O-O,Bd6,c4,Nb6,Qb3,O-O,Ne4,Be7,c5,Nd7,Qxb7,Bxf3,Bxf3,Nd4,Bg2,f5,Qd5+,Kh8,Nd2,Bxc5,Qc4,Rb8,Nf3,Nxf3+,Bxf3,Qe7,a3,Nb6,Qc2,Rbe8,b4,Bd6,Bh5,Rd8,Bb2,Qg5,Bf3,c5,bxc5,Rc8,Qb3,Bxc5,Bxe5,Rfe8,Bf4,Qf6,Rac1,g5,Be3,Bxe3,fxe3,Rxc1,Rxc1,Rxe3,Qa4,Rxf3', 'Qe8+,Kg7,Rc7+,Kh6,Rc6', 'https://lichess.org/training/GpvIX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GPvoq', 'Blitz', 'arrueba', 2232, 'NM f7weakness', 2263, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,g6,Nc3,Bxa6,e4,Bxf1,Kxf1,d6,Nf3,Bg7,h3,O-O,Kg1,Nbd7,Kh2,Qa5,Rb1,Rfb8,Bd2,Qa6,b3,Ne8,a4,Ne5,Nb5,Rxb5,axb5,Qxb5,Nxe5,Bxe5+,f4,Bd4,Qc2,Nf6,Rhe1,Nh5,Qc4,Qd7,Re2,Ra2,Be3,Bxe3,Rxa2,Bxf4+,Kg1,Be3+,Kf1,Ng3+,Ke1,Bd4,Qd3,Nh5,Qf3,Qb5,Ra8+,Kg7,g4,Nf6,Ra7,Qb4+,Kf1,Qd2,Rxe7,h6,h4,g5,Rd1,Qc2,Rxd4,cxd4,hxg5,hxg5,Qf5,Qd1+,Kf2', 'Nxg4+,Kg3,Qg1+', 'https://lichess.org/training/GPvoq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GPXPV', 'Rapid', 'dexterallen', 1774, 'Caissandro', 1779, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,h3,Nf6,O-O,a6,Nc3,Ne7,a3,Ng6,b4,Ba7,Qe1,O-O,Be3,b6,Nd5,c6,Nxf6+,Qxf6', 'Bg5,Qxf3,gxf3', 'https://lichess.org/training/GPXPV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gpyLM', 'Blitz', 'IM Faceless_Trickster', 2699, 'GM ledinavelosipede', 2637, 'd4,d5,c4,e6,Nf3,Nf6,g3,Be7,Bg2,O-O,O-O,b6,cxd5,exd5,Nc3,Bb7,Bf4,c6,Rc1,Nbd7,Qb3,Re8,Rfd1,Nf8,Ne5,Ne6,e3,g5,Ne2,gxf4,exf4,Rc8,Bh3,Rc7,Qd3,Ng7,Kh1,c5,Ng1,cxd4,Rxc7,Qxc7,Ngf3,Ne4,Kg2,f6,Ng4,Qc4,Nh6+,Kf8,Qb1,Qe2,Ng4,h5,Nxd4,Qc4,Ne3,Qc7,Nef5,Bc5,Nxg7,Qxg7,Ne6+,Rxe6,Bxe6,Nxf2,Re1,Ne4,Qd3,f5,Re2,Qd4,Qxd4,Bxd4,Bxf5,Kf7,h3,a5,g4,h4,Bd7,Bc5,Bb5,d4,Bc4+,Kf6,g5+,Kf5,Bd3,Kxf4,g6,Ng3+,Kf2,Nxe2,g7,Bd5,Kxe2,Bg8,b3,Kg3,Bc4,Bh7,g8=Q+', 'Bxg8,Bxg8,Kxh3', 'https://lichess.org/training/gpyLM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gPZgu', 'Rapid', 'KrychuGotuje', 1635, 'satronicc', 1653, 'e4,c5,c4,Nc6,Nf3,e6,b3,d5,exd5,exd5,Qe2+,Qe7,Qxe7+,Ngxe7,d3,dxc4,dxc4,g6,Bb2,Rg8,Ng5,h6,Ne4,Bg7,Bxg7,Rxg7,Bd3,b6,Nbc3,a6,O-O-O,Nd4,Nd5,Nxd5,cxd5,Bb7,Nf6+,Ke7,Ng4,h5,Ne3,Rd8,Nc4,b5,d6+,Kf8,Na5,Bxg2,Rhe1,Rxd6,Re3,f5,Rde1,Kg8,a4,f4,Re8+,Kh7,axb5,axb5,R1e5,Nf3', 'Rxh5#', 'https://lichess.org/training/gPZgu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gpZQh', 'Rapid', 'Chess_Addictt', 1682, 'Harsh18', 1639, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Be2,d5,O-O,Qf6,Re1,Bd6,Nc3,Nxc3,bxc3,O-O,c4,dxc4,Bxc4,Bg4,Be2,Qg6,h3,Bxf3,Bxf3,c6,Bb2,Nd7,c3,Qg5,Qb3,Qf4,Kf1,Qh2,Ke2,Rfe8+,Kd1,Rxe1+,Kxe1,Qg1+,Kd2,Qxf2+,Kd3,c5,Qxb7,Rb8,Qxd7,Bf4,Kc4,Qxb2,Re1,Qxa2+,Kxc5,Qa5+,Kc4,Qa6+,Kc5,Qb6+,Kc4,Kf8', 'Qe7+,Kg8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/gpZQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQ2NR', 'Rapid', 'frozen1989', 1806, 'Valentin50', 1843, 'e4,e6,Nc3,d5,Nf3,d4,Ne2,c5,c3,Nc6,Qa4,Bd7,Qb3,Na5,Qc2,Nc6,cxd4,cxd4,Nexd4,Rc8,Nxc6,Bxc6,Be2,Nf6,O-O,Bxe4,Qa4+,Bc6,Qxa7,Be7,b3,O-O,Ne5,Bd5,d4', 'Ra8,Qxa8,Qxa8', 'https://lichess.org/training/gQ2NR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gq72v', 'Classical', 'nabilghaly', 1629, 'Ablaihan', 1625, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,cxd5,exd5,g3,b6,Bg2,Bb7,O-O,Bd6,Qc2,Nb4,Qf5,c6,a3,Na6,e4,Bc8,Qg5,O-O,e5,h6,Qh4,Be7,exf6,Bxf6,Qh5,Be6,Nh4,Qd7,Re1', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/Gq72v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GQ8G6', 'Blitz', 'TMSchess', 2078, 'NiPorFavorNiHostias', 2182, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nc6,c3,Bd6,Nf3,Bg4,O-O,Nge7,Bg5,f6,Bh4,Qd7,Nbd2,O-O-O,b4,g5,Bg3,Ng6,Bxd6,Qxd6,a4,Nf4,Qc2,Nxd3,Qxd3,Ne7,b5,Ng6,a5,Nf4,Qc2,h5,Rfb1,h4,b6,cxb6,axb6,a6,c4,Kb8,c5,Qc6,Re1,h3,g3,Ne6,Qg6,Rhf8,Re3,Qe8,Qd3,Qd7,Rae1,Rde8,Qg6,Ng7,Qxg7', 'Qxg7,Rxe8+,Rxe8,Rxe8+,Bc8,c6,bxc6', 'https://lichess.org/training/GQ8G6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gq9bm', 'Rapid', 'beast_is_comming', 1861, 'stanislav1985', 1846, 'e4,Nc6,Nf3,b6,c3,Bb7,Bb5,a6,Ba4,b5,Bb3,e6,d4,Na5,Bc2,Ne7,O-O,Ng6,Bg5,f6,Be3,Nc4,Nbd2,Nxb2,Qe2,Bd6,Rab1,Ba3,e5,Ne7,exf6,gxf6,Ng5,Rg8,Nxh7', 'Rxg2+,Kh1,Rxf2+', 'https://lichess.org/training/Gq9bm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQ9GK', 'Blitz', 'Serguso', 1729, 'Quark3', 1683, 'e4,d6,Bc4,Nf6,d3,g6,Bg5,Bg7,Nf3,O-O,h4,Bg4,O-O,Nbd7,Qd2,Bxf3,gxf3,Ne5,Qe3,Nxc4,dxc4,Nd7,c3,Ne5,f4,Nxc4,Qe2,Nb6,h5,f6,Bh4,e5,h6,Bh8,f5,Qe8,Qg4,Nd7,Nd2,Rd8,Kh1,g5,Rg1,c6,Bxg5,fxg5,Qxg5+,Kf7,Nf3,Nf6', 'Qg7+,Bxg7,Rxg7#', 'https://lichess.org/training/gQ9GK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQ9HV', 'Rapid', 'mokesa', 1710, 'Syl2007', 1702, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,d5,Qxd5,Qxd5,Bxd5,c6,Bb3,Na6,a3,Nc5,Bc2,Be6,Nf3,O-O-O,O-O,Nd3,Bxd3,Rxd3,Nc3,Nf6,Rad1,Bc4,Ne5,Rxd1,Rxd1,Be6,f4,Bc5+,Kh1,Rd8,Rxd8+,Kxd8,f5,Bb3,Nxf7+,Bxf7,Na4,Bb6,e5,Nd5,e6,Be8,Bxg7,Ke7,Bh6,Ne3,Bg5+,Kd6,Bf4+,Kd5', 'Nxb6+,axb6,Bxe3', 'https://lichess.org/training/gQ9HV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gqape', 'Rapid', 'egorgorev', 1890, 'pg_bear', 1804, 'e4,c5,Nf3,d6,Bb5+,Nc6,c4,Bd7,d4,cxd4,Nxd4,a6,Nxc6,bxc6,Ba4,Nf6,Nc3,Qa5,O-O,Qe5,Bc2,g6,f3,Qc5+,Kh1,Bg7,Bb3,O-O,Re1,Nh5,a4,Rab8,Ra3,Rb7,Bc2,Qxc4,Bd3,Qc5,Bxa6,Bd4,Bxb7', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/Gqape');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GQAV0', 'Blitz', 'bachofchess', 1592, 'halong100', 1556, 'd4,Nf6,c4,c5,d5,d6,Nf3,g6,b3,Bg7,Bb2,Qa5+,Qd2,Qxd2+,Nbxd2,O-O,e4,Nbd7,e5,dxe5,Nxe5,Ng4,Nxd7,Bxb2,Nxf8,Bxa1,h3,Nxf2,Kxf2,Bg7,Nxh7,Kxh7,Be2,Bd4+,Kf3,Bf5,g4,Bd7,Bd3,e5,Rf1,Re8,Ke4,Kg7,Nf3', 'f5+,gxf5,gxf5#', 'https://lichess.org/training/GQAV0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqaYU', 'Classical', 'knganesh97', 2040, 'bjcba123', 2034, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Nc3,Bb4,Bd2,Nf6,f3,Ke7,O-O-O,Rd8,Bc4,Be6,Nd5+,Nxd5,exd5,Bxd2+,Rxd2,Bf5,Re1,Kf6,g4,Bg6,h4,h6,Rde2,Re8,f4,e4,f5,Bh7,Rxe4,Rxe4,Rxe4,h5,g5+,Kxf5,Re7,Bg8,Rxc7,Kg4,d6,Kxh4,Bxf7,Bxf7,Rxf7,Rd8,d7,g6,Kd2,Kg3,c4,h4,c5', 'h3,Ke3,h2', 'https://lichess.org/training/GqaYU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqbAr', 'Rapid', 'Vugar_325', 1792, 'redchrome', 1766, 'e4,c5,Nf3,e6,d4,cxd4,Qxd4,Nc6,Qa4,a6,Bd2,Qc7,Nc3,Nf6,O-O-O,Be7,h3,O-O,g3,d6,Nb5,Qd7,Na3,Rb8,Bc3,e5,Qb3,b5,Nxe5,Nxe5,Bxe5,Nxe4,Bd4,Qf5,Bd3,Be6,Qb4,Rfc8,Qe1,Qg5+,Be3,Qe5,f4,Qd5,Bxe4,Qxe4,Qf2,b4,Nb1,Bxa2,Rd4,Qc6,Rh2,Bf6,Rd2,Bxb1,Kxb1,Bxb2,Kxb2,Qc3+,Kb1,a5,Bd4,Qc4,Bb2,a4,Qd4,f6,Qxc4+,Rxc4,Rxd6,a3,Ba1,b3,cxb3,Rxb3+,Ka2,Rxg3,Ra6,Rxf4,Rxa3,Rg1,Ra8+,Kf7,Ra7+,Kg6,h4,h5,Ra6,Re4,Kb2,Rb4+,Kc2,Re4,Kd2,Rgg4,Kd3,Rxh4,Rxh4,Rxh4,Ke3,Rg4,Kf3,Rg5,Bd4,h4,Bf2,h3,Bg3,Kh5,Ra8,Rf5+,Ke4,g6,Rh8+,Kg4,Bh2,Rf2,Bd6,Rf1,Rh6,g5,Ke3,Rf5,Ke2,Rd5,Bh2,Ra5,Bc7,Ra3,Rxf6,Kh5,Kf2,g4,Rf5+,Kg6,Rd5,Rf3+,Kg1,g3,Rd4,Kh5,Rd5+,Kg4,Rd4+,Kf5,Rd5+,Ke4,Rg5', 'h2+,Kg2,Rf2+,Kxg3,h1=Q', 'https://lichess.org/training/GqbAr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqBuD', 'Classical', 'Onder10', 1823, 'Dr_Elvis', 1821, 'e4,c5,Qf3,Nc6,c3,Nf6,d3,e6,h3,Be7,Be2,d5,Qg3,dxe4,Na3,exd3,Bxd3,a6,Be2,Bd7,Nc4,Qb8,Qxg7,Rg8,Qh6,Rxg2,Bg5,b5,Ne3,Rxg5,Qxg5,Qc7,Bf3,O-O-O,Qg2,Rg8,Ng4,Nxg4,hxg4,Ne5,Rxh7,Nd3+,Kf1,Qf4,Ne2,Qf6,Rh5,e5,Rd1,Nxb2,Bb7+,Kd8,Rd2,Nc4,Rd3,Rxg4,Qxg4', 'Ne3+,Rxe3,Bxg4', 'https://lichess.org/training/GqBuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GQBV3', 'Rapid', 'YefimG', 2009, 'Ford9a', 1994, 'Nc3,d5,e4,d4,Nce2,e5,Ng3,c5,Nf3,Bg4,h3,Bxf3,Qxf3,f6,Bc4,Ne7,Qb3,Qb6,Bf7+,Kd8,Qf3,Nbc6,d3,Qb4+,Bd2,Qxb2,O-O,Qb6,a4,Qc7,a5,Nc8,Bc4,Nd6,Bd5,Rb8,Nf5,Nxf5,exf5,Nb4,Bb3,Qc6,Qh5,Qd7,Ba4,Qe7,f4,Kc7,fxe5,fxe5,Rae1,Nc6,c3,Rd8,Bxc6,bxc6,Rxe5,Qd7,c4,Bd6,Re6,Rdf8,Qe2,Rf6,a6,Kb8,Rb1+,Ka8,Rxf6,gxf6,g4,Rb8,Rxb8+,Bxb8,Qf3,Qc8,g5,Qxa6,gxf6,Qc8,f7,Kb7,Qe4,Qf8,Qe6,Bd6,Ba5,Qg7+,Kf1,Qg3,Qd7+,Ka6', 'Qxc6+,Kxa5,Qb5#', 'https://lichess.org/training/GQBV3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQcoh', 'Rapid', 'kadog', 1890, 'Ivorybags', 1806, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,Bd7,Bc4,Nf6,O-O,O-O,h3,c5,Ndb5,Bxb5,Bxb5,a6,Be2,b5,f3,Nc6,Be3,Ne5,Qe1,Qc7,Rd1,Rad8,Nd5,Nxd5,Rxd5,Bf6,Qg3,Ng6,Rfd1,Be5,f4,Bxb2,f5,Be5,Qg4,Ne7,Rxe5,dxe5,Rxd8,Rxd8,Bh6,g6,f6,Nc6,c3,Qd7,Qh4,Qe6,Bg5,h5', 'Bxh5,gxh5,Qxh5', 'https://lichess.org/training/gQcoh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqD5W', 'Classical', 'Kamal766542', 1840, 'dr_ghassan', 1800, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bd3,Bb7,a3,e6,O-O,Be7,Re1,O-O,Bg5,h6,Bh4,Nc6,Nxc6,Bxc6,Qe2,Qc7,e5,dxe5,Bg3,Bb7,Bxe5,Qd8,Rad1,Qb6,Bd4,Bc5,Bxf6,gxf6,Ne4,Bxe4,Bxe4,Rad8,Bd3,f5,Rf1,Kh7,Qe5,Bd4,Qf4,Bxb2,a4,b4,Rb1,Bc3,Qc4,a5,Qxc3,bxc3,Rxb6,Rd4,Bc4,Rxc4,Ra1,Rd8,g3,Rd2,Ra2,Re4,Rb5,Ree2,Rxa5,Rxf2,h4,Rxc2,Rxc2,Rxc2,Rc5,Rc1+,Kf2,Ra1,a5,c2,Rxc2,Rxa5,Rc7,Kg6,Kf3,h5,Rc8,e5,Rg8+,Kh7,Rg5,e4+,Kf4,Kh6,Rg8,f6,Rh8+,Kg6,Rg8+,Kh7,Rf8,Kg7,Re8,Re5,Rd8,e3,Rd7+,Kg6,Rd1,e2,Re1,Kf7,Kf3,Ke6,Rxe2,Rxe2,Kxe2,Ke5,Ke3,f4+,gxf4+,Kf5,Kf3,Kg6', 'Ke4,Kf7,Kf5,Ke7,Kg6', 'https://lichess.org/training/GqD5W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqEg6', 'Blitz', 'Seraphim95', 1949, 'Mele1985', 2031, 'Nc3,Nf6,d4,d5,Bg5,e6,g3,Be7,Bg2,O-O,e3,Nbd7,Nge2,h6,Bxf6,Nxf6,Nf4,c5,h4,a6,g4,Nd7,Nce2,g6,Ng3,Bxh4,dxc5,Nxc5,Qd4,b6,O-O-O,Bf6,Qd2,Kg7,Rdg1,Bb7,e4,dxe4,Nxe6+,Nxe6', 'Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/GqEg6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQEKk', 'Rapid', 'Mikhan0000', 1912, 'Joyce33705', 1881, 'e4,e5,c4,Nc6,Nc3,b6,d3,d6,Be2,Nd4,Nf3,Nxe2,Qxe2,Bb7,O-O,Be7,Be3,Nf6,Nd2,Qd7,f4,O-O-O,f5,h5,Nd5,Ng4,h3,Nxe3,Qxe3,Bxd5,cxd5,Rdg8,a4,Bh4,a5,g5,axb6,cxb6,Rfc1+,Kd8,Nc4,g4,g3,Bg5,Qf2,Bxc1,Rxc1,gxh3,f6,h4,Nxb6,Rxg3+,Kh1,Rg2,Qe3,Qg4', 'Rc8+,Qxc8,Nxc8,Kxc8,Qxh3+', 'https://lichess.org/training/gQEKk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gqeZn', 'Rapid', 'BlackShelter', 1701, 'CabalTherapies', 1666, 'd4,g6,c4,Bg7,Nf3,d6,h3,Nd7,Bf4,e5,dxe5,dxe5,Nxe5,Nxe5,Qxd8+,Kxd8,Bxe5,Bxe5,Nd2,Bxb2,Rd1,Bc3,e3,c6,Be2,Kc7,O-O,Be6,Ne4,Nf6,Nxc3,Rad8,Rb1,h5,Na4,Rd2,Bf3,Bxc4,Rfd1,Rxa2,Nc5,b6,Ne4,Nd5,Ng5,Nc3,Rb4,Nxd1,Rxc4,Ra1,Rxc6+,Kb7', 'Rc1+,Kb8,Rxa1', 'https://lichess.org/training/gqeZn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gqh0v', 'Rapid', 'German_Dias', 1795, 'WAXMAmucm', 1660, 'e4,e5,Nf3,d5,exd5,e4,Ng5,Qxg5,d3,Qxd5,Nc3,Qd8,Nxe4,Nf6,Bg5,Be7,Bxf6,Bxf6,Be2,Bxb2,Rb1,Qd4,O-O,O-O,c3,Bxc3,Nxc3,Qxc3,Bg4,Bxg4,Qxg4,b6,d4,Rd8,Rfc1,Qxd4,Rd1,Qf6,Rxd8+,Qxd8,Rd1,Qe7', 'Qc8+,Qf8,Rd8', 'https://lichess.org/training/gqh0v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqHYu', 'Rapid', 'orionchess', 1846, 'Slavik1959', 1813, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,h6,O-O,d6,h3,O-O,Na4,a6,Nxc5,dxc5,a3,b5,Ba2,Re8,Be3,Qd6,Nh2,Be6,f4,Bxa2,Rxa2,Rad8,f5,c4,Ng4,cxd3,Nxf6+,Qxf6,cxd3,Rd7,b4,Red8,Rd2,Nd4,Bxd4,Rxd4,Qc2,Qg5,Rfd1,Qe3+,Kh1,R8d7,Qc6,R4d6,Qc3,Qd4,Qxd4,Rxd4,Kg1,g6,g4,g5,Kf2,f6,Ke3,Kf7,Rc1,Ke8,Rc6,R4d6,Rxd6,Rxd6,d4,exd4+,Rxd4,Kd7,Rxd6+,Kxd6', 'Kd4,c6,e5+', 'https://lichess.org/training/GqHYu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQi3O', 'Blitz', 'NM jonny_magia', 2323, 'GiveMePawns', 2306, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Bf4,Nd7,Qd2,O-O,Bd3,c6,O-O-O,Qa5,Kb1,Nc5,h3,Be6,b3,Bf6,Nd4,Bd5,Bxd6,Nxd3,Qxd3,Rfd8,Bb4,Qc7,Qg3,Be5,Qe3,Bf4,Qd3,c5,Nb5,Qb6,c4,Be6,Bxc5', 'Rxd3,Bxb6,Rxd1+,Rxd1,axb6', 'https://lichess.org/training/gQi3O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gqipi', 'Rapid', 'BoatloadofJoe', 1619, 'laurevs1937', 1680, 'e4,d6,d4,f6,Bc4,g6,f4,c6,Nc3,b5,Bb3,Nd7,a3,Nb6,Nf3,a5,O-O,Bg4,Qe1,Bxf3,Rxf3,a4,Ba2,Nh6,Qh4,Bg7,Be3,Nc4,d5,c5,Bxc4,bxc4,Raf1,O-O,h3,Qe8,g4,Nf7,Qg3,h6,h4,Qd7,f5,g5,hxg5,hxg5,R1f2,Ne5,Rh2,Nxf3+,Qxf3,Kf7,Rh7,Rh8,Qh3,Rxh7,Qxh7,Rh8,Qg6+,Kf8,e5,dxe5,Ne4,Rh6,Nxc5,Qb5', 'Ne6+,Kg8,Qxg7#', 'https://lichess.org/training/gqipi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gqKoH', 'Rapid', 'EbiGusey', 2002, 'MetallicIntuition', 1994, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Nf3,b5,cxb5,c6,bxc6,Nxc6,e3,Bb7,Be2,Rc8,Bd2,Be7,a3,Na5,O-O,Be4,Qa4,Bc6,Qc2,Be4,Qa4,Bc6,Qd1,Qb6,Na4,Bxa4,Qxa4,Nb3,Rad1,Rc2,Ba5', 'Qxa5,Qxb3,Rxe2', 'https://lichess.org/training/gqKoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqKSi', 'Rapid', 'josevita56', 1618, 'Alinor', 1655, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Nf6,O-O,Bc5,h3,d6,c3,Na5,d4,Nxc4,dxc5,dxc5', 'Qa4+,Bd7,Qxc4', 'https://lichess.org/training/GqKSi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQMKS', 'Bullet', 'Esmailkhader', 1559, 'gromadecki', 1544, 'd4,e6,c3,c5,Bf4,d5,dxc5,Bxc5,Nf3,Nc6,Qa4,Nf6,Ne5,Bd7,Nxd7,Nxd7,e3,O-O,Bb5,Nb6,Qc2,Ne7,O-O,a6,Be2,Ng6,Bg3,e5,Nd2,e4,Nb3,Be7,Nd4,Qd7,Qb3,Na4,c4,Nc5,Qc2,dxc4,Bxc4,b5,Be2,Rac8,Qb1,Qd5,Rc1,Ne5,Bxe5,Qxe5,b4,Bd6,bxc5', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/gQMKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gqnwt', 'Rapid', 'belanchuk', 1711, 'andremart', 1775, 'd4,d5,c4,dxc4,Nc3,a6,e4,b5,a4,Bb7,axb5,axb5,Rxa8,Bxa8,Nxb5,Bxe4,Nf3,c6,Nc3,Bd5,Ne5,e6,Nxc4,Nf6,Ne3,Be7,Ncxd5,cxd5,Bb5+,Nbd7,O-O,O-O,b4,Qb6,Bxd7,Nxd7,Nc2,Bxb4,Nxb4,Qxb4,Qd3,Nb8', 'Ba3,Qc4,Qxc4', 'https://lichess.org/training/Gqnwt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQOgS', 'Blitz', 'azmie', 1941, 'Posky1', 2038, 'e4,e5,Bc4,Nc6,Nf3,Nd4,O-O,Nxf3+,Qxf3,Qf6,Qb3,Bc5,Nc3,c6,Na4,Bd6,d4,b5,Bxb5,cxb5,Qxb5,Ne7,Nc5,Bxc5,Qxc5,exd4,e5,Qb6,Qa3,Nc6,f4,Qb4,Qg3,O-O,f5,Qc5,f6,g6,Qh4,Kh8,Qh6,Rg8,Rf3,Qf8', 'Qxh7+,Kxh7,Rh3+,Qh6,Rxh6#', 'https://lichess.org/training/gQOgS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqPHF', 'Rapid', 'Mister_Hat', 1997, 'pagadix', 1667, 'Nf3,Nf6,b3,g6,Bb2,Bg7,g3,b6,Bg2,Bb7,O-O,Nc6,d4,e6,Ne5,O-O,Nc3,d5,Qd2,Nd7,Nxc6,Bxc6,e4,dxe4,Nxe4,Nf6', 'Nxf6+,Qxf6,Bxc6', 'https://lichess.org/training/GqPHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQpWq', 'Rapid', 'Masterpiec', 1877, 'Muhamed007', 1812, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Bb5,Bd7,O-O,a6,Ba4,g6,Rb1,Bg7,a3,O-O,Be3,Qc7,Qd2,Ng4,Nxc6,Bxc6,Nd5,Bxd5,exd5,Nxe3,Qxe3,b5,Bb3,a5,Rfe1,a4,Ba2,Bf6,c3,Kg7,h3,h6,Rbd1,Rab8,Bb1,Qc4,Qf3,Qb3,Re2,Rbc8,Rdd2,Bg5,Rc2,f5,Qd3,Rc4,Re6,Rc5,Qd4+,Bf6,Qe3,Rxd5,Kh2,Kf7,Qxh6,Rh8', 'Rxf6+,Kxf6,Qxh8+', 'https://lichess.org/training/gQpWq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQqyG', 'Blitz', 'NM PhantomAnton', 2480, 'FM matrix12345', 2550, 'e4,c5,Nf3,d6,Bb5+,Nd7,d4,cxd4,Qxd4,e5,Qd3,a6,Bxd7+,Bxd7,c4,b5,b3,bxc4,bxc4,Rc8,O-O,Be7,Ba3,Qc7,Nbd2,Nf6,Rac1,O-O,Rfd1,Rfd8,h3,Ba4,Re1,Bf8,Nf1,Bc6,Ng3,Qa5,Re3,Nd7,Nf5,Nc5,Bxc5,Qxc5,Ng5,h6,Nf3,g6,Ng3,Rb8,h4,Rb2,h5,Be7,Re2,Rdb8,Nh2,Kg7,Ng4,Bd7,Ne3,Be6,hxg6,fxg6,Nef5+,gxf5,exf5,Bf7,Qf3,Rxe2,Qxe2,Qd4,Ne4,h5,Rd1,Qb2,Qe3,Qc2,Qg3+,Kf8,Re1,Rb1,f3,Rxe1+,Qxe1,Qxc4,f6,Bd8,Qg3,Qe6,Qg7+,Ke8,Qh8+,Kd7,Qg7,Kc6,Qh6,d5', 'Qc1+,Kd7,Nc5+,Ke8,Nxe6', 'https://lichess.org/training/gQqyG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQS2h', 'Blitz', 'JGHUSH', 2018, 'LagDown', 1603, 'e4,c5,Nc3,d6,Bb5+,Bd7,f4,Qb6,Bxd7+,Nxd7,Nf3,e6,d3,g6,O-O,Bg7,Kh1,Ne7,Qe1,h6,b3,Nf6,Na4,Qc7,Rb1,b5,Nc3,a6,e5,dxe5,fxe5,Nfd5,Nxd5,Nxd5,c3,O-O,d4,cxd4,cxd4,Rac8,Qh4,Kh7,Ng5+,Kg8,Ne4,Kh7,Nf6+,Bxf6,Qxh6+,Kg8,exf6,Nxf6,Rxf6,Qc2,Ra1', 'Qd1+,Rf1,Qxf1#', 'https://lichess.org/training/gQS2h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GQS4e', 'Rapid', 'GreatWolf97', 1594, 'phlegma', 1593, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,c3,Bb6,Nd2,O-O,e5,Nd5,d4,Bf5,Nc4,Re8,Nxb6,cxb6,Be2,f6,exf6,Nxf6,O-O,Qd5,h3,Re7,Bf4,Rae8,Bf3,Be4,Bxe4,Nxe4,Re1,Qf5,Qb3+,Kh8,Be5,Qxf2+,Kh1,Ng3+,Bxg3', 'Rxe1+,Rxe1,Rxe1+,Kh2,Qg1#', 'https://lichess.org/training/GQS4e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gqSX3', 'Blitz', 'ELGRANCASTILLO', 2010, 'WFM Mary149', 1999, 'e4,c5,Nf3,e6,d4,cxd4,Qxd4,a6,Bd3,Nc6,Qe3,d6,O-O,Nf6,Nc3,Be7,b3,b5,Bb2,Bb7,h3,O-O,Rad1,Re8,e5,dxe5,Nxe5,Nxe5,Qxe5,Bd6,Bxh7+,Kxh7,Rxd6,Qc7,Rxe6', 'Qxe5,Rxe5,Rxe5', 'https://lichess.org/training/gqSX3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gqsXx', 'Rapid', 'DragonflyHunter', 1980, 'Jupp3', 1702, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Nxc6,bxc6,e5,Ne7,f4,Ng6,Ne4,Qa5+,c3,Qd5,Bd3,d6,c4,Qd4,Qe2,dxe5,Be3,Qd7,Rd1,Nxf4,Bxf4,exf4,O-O,Qa7+,Kh1,e5,Rxf4,Be7,Rxf7,Kxf7,Qh5+,g6,Qxe5,Bf5,Rf1,Qd7,Nc5,Bxc5', 'Bxf5,Qxf5,Rxf5+', 'https://lichess.org/training/gqsXx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQtio', 'Blitz', 'FVP-NCh_74', 1915, 'resignYeah', 1974, 'e4,c5,f4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nc3,Nc6,Nf3,Bd6,Be2,Bxf4,g3,Bd6,Nb5,Bh3,d4,cxd4,Nfxd4,Bb4+,Kf2,O-O,Nxc6,Ne4+,Kf3,Qf6+,Bf4,Nd2+,Kf2,Qxc6,Rg1,Qc5+,Be3,Qxe3+,Kxe3,Rfe8+,Kf2,Bc5+,Ke1', 'Nf3#', 'https://lichess.org/training/gQtio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqtpA', 'Classical', 'Anand187', 1855, 'thecrazyman', 1653, 'e4,e6,Nf3,d5,Nc3,c5,exd5,exd5,Bb5+,Nc6,Qe2+,Ne7,d4,a6,Bxc6+,bxc6,O-O,c4,Ne5,Be6,Re1,g6,Na4,Nf5,c3,Qc7,Nc5,Bxc5,dxc5,O-O,Bf4,Qb7,Nf3,h6,Nd4,Nxd4,cxd4,g5,Bd6,Rfe8,Qh5,Kh7,Re3,Qxb2,Rae1,Qxd4,Rg3,Bf5', 'Qxf7+,Qg7,Qxf5+', 'https://lichess.org/training/GqtpA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gqUHf', 'Blitz', 'BFG5', 1943, 'FM legend2014', 2304, 'd4,Nf6,Nc3,c5,d5,g6,e4,Bg7,Nf3,O-O,Bd3,e6,h3,exd5,exd5,d6,Bf4,Re8+,Kf1,Nh5,Bh2,Qc7,Nb5,Qb6,Nxd6,Rd8,Nxc8,Rxc8,Rb1,c4,Be2,Nd7,c3,Nc5,Nd4,Ne4,Bxh5,gxh5,Qxh5,Bxd4,Qg4+,Bg7,Qxe4,Re8,Qxc4,Qg6,Rd1,Qc2,Qb3', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/gqUHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GQv0a', 'Rapid', 'Caballo0520', 1833, 'aadisreenu', 1810, 'd4,e6,c4,Nf6,Nc3,Bb4,a3,Bxc3+,bxc3,d5,cxd5,Nxd5,c4,Nf6,Bg5,Nbd7,e3,h6,Bh4,g5,Bg3,c6,Nf3,Ne4,Be5,Nxe5,Nxe5', 'Qa5+,Ke2,Nc3+', 'https://lichess.org/training/GQv0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gqv1H', 'Classical', 'edirty', 1670, 'benjiv', 1946, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d5,e5,Bf5,a3,a5,Bb5,e6,Nf3,Qb6,a4,Bb4+,Nc3,Ne7,O-O,O-O,Bg5,Rac8,Rc1,Rb8,Nh4,Bg6,Nxg6,fxg6,Qg4,Nf5,Be3,Nce7,Na2,Nxe3,fxe3,Bd2,Rcd1,Bxe3+,Kh1,Nf5,Nc3,Bxd4,Rxf5,Bxc3', 'Rxf8+,Rxf8,bxc3', 'https://lichess.org/training/Gqv1H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqVI3', 'Rapid', 'MasterBassam', 1724, 'bagas04', 1771, 'e4,c5,Nc3,Nf6,f4,d6,Nf3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,e6,Re1,Be7,e5,Nd5,d4,O-O,Bd2,Qb6,Rb1,cxd4,Nxd5,Qa7,Nxe7+,Qxe7,exd6,Qxd6,Bc3,c5,Bd2,Bb7,c3,d3,Be3,c4,Nd4,Rfd8,Qa4,Qd5,Nf3,Qh5,Qxc4,Bxf3,gxf3,Qxf3,Rbd1,Qg4+,Kf2,Qh4+,Kg2,h5,Bf2,Qg4+,Kf1,Qh3+,Kg1,h4,Re3', 'Qg4+,Kf1,Qxd1+', 'https://lichess.org/training/GqVI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gQvSL', 'Rapid', 'ebb1', 1742, 'Rockkkk5', 1695, 'd4,d5,c4,c6,Nc3,e6,Nf3,dxc4,e4,b5,Bf4,Nf6,Bg5,Nbd7,e5,h6,exf6,hxg5,fxg7,Bxg7,Be2,g4,Nd2,Bxd4,Bxg4,Qf6,Nf3,Bxc3+,bxc3,Qxc3+,Kf1,a5,Rc1,Qf6,a4,Ba6,axb5,Bxb5,Kg1,a4,Nd4,Qf4,Nxe6,fxe6,Bxe6,Rh7,g3,Qf6,Qe2,c3,Bf5+,Kd8,Qc2,Rf7,Bxd7,Rxd7,Qxc3,Qxc3,Rxc3,Rd1+,Kg2,Rxh1,Kxh1,a3,Rc1,a2,Ra1,Bc4,h4,Ra3,Kg2,Ra4,h5,Rb4,h6,Rb1', 'h7,Rxa1,h8=Q+', 'https://lichess.org/training/gQvSL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GQwMj', 'Blitz', 'DonQuijote23', 2257, 'FM Cafeschopenhauer', 2395, 'd4,e6,e3,Nf6,f4,Be7,Nf3,O-O,c3,c5,Bd3,cxd4,exd4,b6,O-O,Bb7,Nbd2,d6,Qe1,Nbd7,a3,Re8,Qg3,Nf8,Qh3,Ng6,Ng5,Bf8,Nge4,Nxe4,Bxe4,Bxe4,Nxe4,d5,Ng5,h6,Nf3,Ne7,Ne5,Nf5,g4,Nd6,Be3,Nc4,Rf2,Bd6,Raf1,Bxe5,fxe5,Re7,g5,Nxe3,Qxe3,hxg5,Qxg5,Qf8,Rg2,a5,Rf3,g6,Rh3,Raa7,Rf2,Qg7,Rf6,b5,Rhf3,b4,axb4,axb4,Rf2,bxc3,bxc3,Ra1+,Kg2,Rb7,Qd2,Rab1,Qa2,Kh7,Qa8,Rb8,Qc6,R1b6,Qa4,Rb2,Qd1,Rxf2+,Kxf2,Rb2+,Kg3,Kg8,Qa4,Kh7,Qd1,Kg8,Qf1,g5,Qa6,Kh7,Qa7,Rb3', 'Rxf7,Qxf7,Qxf7+', 'https://lichess.org/training/GQwMj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqwVq', 'Blitz', 'barrettols', 1660, 'Illinskyi', 1642, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,Nf3,Qxe4+,Be2,Bc5,Nc3,Qg6,O-O,O-O,d4,Bb6,Bd3,Qh5,Be3,d5,h3,Bxh3,gxh3,Qxh3,Nh2,Nc6,Bg5,Nxd4,Bxf6,gxf6,Qg4+,Qxg4+,Nxg4,Nf3+,Kg2,f5,Bxf5,Nh4+,Kh3,Nxf5,Rg1,Kh8,Nf6,Bd4,Ncxd5,Bxf6,Nxf6,Rad8,Kg4,Nh6+,Kg5,Ng8,Rh1,Nxf6,Kxf6,Rg8', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/GqwVq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gqY3d', 'Rapid', 'slava221', 1765, 'DerUfkcner', 1788, 'e4,d5,exd5,Nf6,Nc3,Bf5,Bc4,a6,a3,b5,Bb3,Ne4,Nxe4,Bxe4,f3,Bxd5,Bxd5,Qxd5,d3,e5,Ne2,Bc5,Nc3,Qd4,Qe2,f5,Bd2,b4,axb4,Bxb4,Ra4,Nc6,Be3', 'Bxc3+,bxc3,Qxa4', 'https://lichess.org/training/gqY3d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GqYLv', 'Classical', 'aidan5murray', 1769, 'AbdullahAlok1974', 1836, 'd4,d5,c4,dxc4,e3,b5,a4,Ba6,axb5,Bxb5,Na3,Qd5,Nxb5,Qxb5,Qa4,Qxa4,Rxa4,Nf6,Bxc4,e6,Nf3,a5,Bd2,Bd6,Rxa5,Rxa5,Bxa5,O-O,O-O,Nc6,Bc3,Ne4,Rb1,Rb8,Nd2,Nf6,g3,h5,e4,e5,d5,Ne7,Bd3,Ng6,f3,h4,Kg2,Nh5,b4,f6,b5,Nhf4+,gxf4,Nxf4+,Kf1,Nxd3,Ke2,Nf4+,Kf1,h3,Ba5,Ra8,Bb4,Bxb4,Rxb4,Ra2,Ke1', 'Nd3+,Ke2,Nxb4', 'https://lichess.org/training/GqYLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GQYQU', 'Rapid', 'Koctik1986', 1886, 'MileGM', 1980, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,d6,d4,a6,Ba4,b5,Bb3,exd4,Nxd4,Qd7,Be3,Ng6,Nc3,Be7,Bd5,Bb7,Qf3,O-O,e5,Ncxe5,Qe4,Bxd5,Qxd5,c6,Qe4,Rae8,f4,Ng4,Bd2,d5,Qf3,Bf6,Nb3,Qf5,h3,Nh6,g4,Qxc2,g5,Bd4+,Nxd4,Qxd2,Rfd1,Nh4', 'Rxd2,Nxf3+,Nxf3', 'https://lichess.org/training/GQYQU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gr0lC', 'Rapid', 'Shevket', 1922, 'wintermute1010110', 1926, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,e3,h6,Be2,e6,O-O,Be7,c5,O-O,b4,a5,b5,cxb5,Bxb5,Nc6,a4,Rc8,Ra2,Nb4,Rb2,b6,Na2,bxc5,dxc5,Bxc5,Nxb4,Bxb4,Nd4,Bc3,Ra2,Bxd4,Qxd4,Ne4,Bd2,Nxd2,Qxd2,Rc5,Rc1,Rxc1+,Qxc1,Qc8,Qd2,Qc7,h3,Rc8,Rb2,Qc1+,Qxc1,Rxc1+,Kh2,Rb1,Rd2,Kf8,Ra2,Ke7,Ra3,Rc1,Rb3,Rb1,Rc3,Kd6,Rc6+,Kd7,Ra6+,Kd8,Rxa5,Rb2,Ra7,Bg6,Kg3,Rb4,Ra8+,Ke7,Re8+,Kf6,Rc8,Bb1,Rc5,Ba2,a5,Bc4,Bc6,Rb2,Kf3,Ra2,g4,Be2+,Kg3,Ra3,h4,Bc4,Kf4,g5+,Kg3,Ke7,hxg5,hxg5,Bb7,Kd6,Rc8,Rxa5,Rf8,Ke7,Rg8,Kf6,Bc6,Bb5,Bb7,Ra7,Rb8,Ba6,Bc6,Bc4,Kg2,Ke5,Rg8,f6,Re8,Rc7,Ba4,Kd6,Rf8,Ke5,Re8,f5,gxf5,Kxf5,Rf8+,Kg6,Rg8+,Kh6,Rh8+,Kg7,Rh5,Kf6,Rh6+,Kg7,Rxe6,d4,Rd6,d3,Bd1,Rb7,Kg3,Rb2,f3,d2,Kg4,Bb3,Bxb3,Rxb3,e4,Rb2,Kxg5,Kf7,Kf5,Ke7,Rd3,Rb5+,e5,Rb2,f4,Rc2,Kg5,Ke6,Kg4,Rb2,Kf3', 'Rb3,Ke4,Rxd3', 'https://lichess.org/training/Gr0lC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gR0NC', 'Blitz', 'NM EmirHoca', 2380, 'quicksilver2', 2363, 'd4,e6,c4,b6,e4,Bb7,Nc3,Bb4,d5,c6,a3,Bxc3+,bxc3,cxd5,cxd5,exd5,e5,d6,Qg4,dxe5,Bb5+,Kf8,Nf3,Qd6,a4,a6', 'Ba3,Qxa3,Rxa3', 'https://lichess.org/training/gR0NC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gR4HJ', 'Classical', 'zlatko365', 1701, 'beniii', 1657, 'e4,c5,Bc4,Nc6,Nc3,g6,d3,Bg7,a3,e6,Nf3,Nge7,g4,d5,exd5,exd5,Ba2,Bxg4,Qe2,d4,Nd5,Bxf3,Qxf3,Nxd5,Bxd5,Qe7+,Kd1,Qf6,Re1+,Kf8,Qxf6,Bxf6,Bf4,Kg7,Kd2,Rhe8,Bg3,Ne5,f4,Ng4,h3,Nh6,Be4,Kg8,Bxb7,Rab8,Bc6,Rec8,Ba4,Rxb2,Bb3,a5,Kc1,a4,Kxb2,axb3,cxb3,Rb8,a4,c4,dxc4,d3+,Ka3,d2,Red1,Bxa1,Rxa1,Nf5,Bf2,Rd8,Rd1,Nd6,Kb2,Rb8,Rxd2', 'Nxc4+,Kc2,Nxd2,Kxd2,Rxb3', 'https://lichess.org/training/gR4HJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gr5DH', 'Rapid', 'zasaa', 1688, 'uraffaele', 1663, 'e4,e6,d4,b6,d5,Bb7,Bc4,Ne7,dxe6,fxe6,Bd3,Nf5,Nf3,Nh4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/Gr5DH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GR5Lc', 'Blitz', 'Knyaz_blica', 1768, 'AzulPoeta2020', 1889, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,Nf6,Nf3,g6,O-O,Bg7,Qe2,O-O,Re1,Nc6,Bg5,Bg4,h3,Bxf3,Qxf3,Ne5,Qe2,Nxc4,Qxc4,Rc8,Qe2,Qd7,Rad1,Qe6,a3,Rc7,Bxf6,Bxf6,Nd5,Rc6,f4,Rfc8,Rd2,Bh4,Rf1,Rc1,Rxc1,Rxc1+,Kh2,Qd7,f5,e6,fxe6,fxe6,Nf4,Qf7,Nd3,Rf1,g3,Bg5,Nf4,Rxf4,gxf4,Bxf4+,Kh1,Bxd2,Qxd2,Qf1+,Kh2,Qa6,Qc2,Qc6,Qe2,a5,h4,b5,h5,Qc7,hxg6,hxg6,Qxb5,d5+,Kh3,dxe4,Qe8+,Kg7,Qxe6,Qf4,Qd7+,Kh6,Qd8,Qf5+,Kh2,e3,Qh8+,Kg5,Qd8+,Kf4,Qd4+,Kf3,Qd1+,e2,Qd3+,Kf2', 'Qg3+,Kf1,Qg1#', 'https://lichess.org/training/GR5Lc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gR5O5', 'Rapid', 'Armaanlalawat', 1610, 'unbeknownst', 1821, 'e4,e6,Bc4,d5,exd5,exd5,Bd3,Nf6,Nf3,Bd6,Nc3,O-O,O-O,Bg4,Nb5,c6,Nxd6,Qxd6,c4,Nbd7,Qc2,Bxf3,gxf3,Qf4,Be2,dxc4,d3,Qh4,dxc4,Nb6,c5,Nbd5,Qf5,g6,Qg5,Qd4,Kh1,Rfe8,Bd1,Qxc5,Bb3,Qd4,Be3,Nxe3,fxe3,Qxb2,Rae1,Rad8,Rg1,Nd5,Qf5,Re5,Qd3,Rde8,Rg2,Qa3,e4,Nf4', 'Bxf7+,Kxf7,Qxa3', 'https://lichess.org/training/gR5O5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gr6sW', 'Rapid', 'Evgen13', 1985, 'ATShame', 1816, 'd4,c5,d5,d6,c4,g6,e4,Bg7,Nc3,Nf6,Nf3,O-O,Bd3,e6,O-O,exd5,cxd5,Bg4,h3,Bxf3,Qxf3,Nbd7,Bg5,Ne5,Qg3,a6,Bc2,b5,f4,Nc4,b3,Na3,Bd3,Qa5,Rac1,b4,Na4,Rac8,e5,dxe5,fxe5,Nxd5,Bc4,Nxc4,Rxc4,Qc7,Rxc5,Qxe5', 'Qxe5,Bxe5,Rxd5', 'https://lichess.org/training/Gr6sW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gr7Kc', 'Blitz', 'subbro', 1727, 'darkbishop1', 1842, 'e4,e5,d3,Nc6,Nf3,Bc5,Be2,Nf6,O-O,d6,c3,O-O,b4,Bb6,Bg5,h6,Bh4,Be6,Nbd2,Nb8,h3,Nbd7,Nh2,Qc8,a4,a6,b5,axb5,axb5,Rxa1,Qxa1,Nh7,c4,g5,Bg3,f5,exf5,Bxf5,Bg4,Bxg4,Nxg4,Kg7,Kh1,Ndf6,Nxf6,Nxf6,Nf3,e4,dxe4,Kg6,e5,dxe5,Qxe5,Re8,Qc3,g4,hxg4,Qxg4,Nh4+,Kf7,c5,Ba7,Nf3,Nh5,Ne5+,Rxe5,Qxe5,Nxg3+,Qxg3,Qh5+,Qh3,Qxc5,Qxh6,Qxb5,Rd1,Bxf2,Qf4+,Kg6,Qe4+,Kf7,Qf3+,Kg6,Rd5', 'Qf1+,Kh2,Qg1+,Kh3,Qh1+,Kg4,Qh4#', 'https://lichess.org/training/Gr7Kc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gR8i5', 'Rapid', 'KarahannE', 1788, 'unknownmen95', 1864, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Nbd7,e3,h6,Bxf6,Nxf6,cxd5,cxd5,Bd3,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/gR8i5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gr8pt', 'Classical', 'Vitalik90', 1716, 'marian2003', 1792, 'e4,e6,d4,Qh4,Nc3,Bb4,Bd3,Nc6,Nf3,Qg4,O-O,b6,h3,Qh5,e5,f6,exf6,Nxf6,Nb5,Bd6,c4,a6,Nxd6+,cxd6,Qb3,Rb8,d5,Na5,Qa4,Bb7,dxe6,Bc6,exd7+,Nxd7,Re1+,Ne5,Qa3,Kd7,Nxe5+,dxe5,Be2,Qg6,Rd1+,Ke8,g3,Qe6,Bg4,Qxc4,Bg5,Qc5,Qd3,Kf7,Rac1,e4,Rxc5,exd3,Rf5+,Kg6,h4,h5,Rxd3,hxg4,Rf4,Kh5,Rd6,g6,Rff6,Be4,Rf7,Rb7,Rff6,Bf5,Rd5,Rhh7,Bf4,Rhf7', 'Rdxf5+,gxf5,Rh6#', 'https://lichess.org/training/Gr8pt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('graDM', 'Rapid', 'Fandorine', 1807, 'blablub', 2064, 'e4,c6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Nc6,Bf4,Qb6,Bb5,Bd7,Bxc6,bxc6,b3,e6,Nc3,Bb4,Qd3,c5,Ne2,Bb5,Qg3,Bxc3+,Nxc3,Ne7,Qxg7,Rg8,Qf6,d4,Ne4,Nd5,Nd6+', 'Qxd6,exd6,Nxf6', 'https://lichess.org/training/graDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('grAOf', 'Rapid', 'Wilshire', 1797, 'atravi', 1808, 'e4,e5,Nf3,d6,d4,Be7,dxe5,dxe5,Qxd8+,Bxd8,Nxe5,Nf6,Nc3,O-O,Bd3,Re8,Nf3,Bg4,Nd4,c5,Nb3,b6,O-O,Nc6,f3,Be6,Bb5,Bd7,Bf4,a6,Be2,c4,Bxc4,Nb4,Bd3,Nxd3,cxd3,Nh5,Be3,f5,Rac1,f4,Bf2,Nf6,d4,Be6,d5,Bf7,Rfe1,Bc7,Rcd1,Rad8,Nd4,Nd7,Nde2,g5,Nd4,Ne5,b3,b5,Nc2,Ba5,Bd4,Rc8,b4,Bb6,Bxb6,Rxc3,Re2,Rec8,Bd4,Rxc2,Rxc2,Nxf3+,gxf3,Rxc2,a3,Kf8,Rf1,Ra2,Ra1,Rd2,Bf6,Bh5,Rf1,h6,Rf2,Rd3,Kg2,Rxa3,d6,Ke8,e5,Kd7,Rc2,Bxf3+,Kf2,Bc6,Be7,h5,Bxg5,f3,Be7,Rb3,Rd2,Rxb4', 'e6+,Kxe6,d7,Bxd7,Bxb4', 'https://lichess.org/training/grAOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GRATz', 'Classical', 'david252525', 2024, 'Susil08', 2036, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Nc6,O-O,Bg4,h3,Bxf3,Bxf3,Nd7,Be3,e6,a3,Qf6,Ne2,Rfd8,Qd2,Qe7,b4,a6,Bh6,Bf6,Rab1,Nb6,Rfc1,e5,d5,Nd4,Nxd4,exd4,c5,Na4,c6,Nc3,cxb7,Nxb1,bxa8=Q,Nxd2,Qb7,Nxf3+,gxf3,Rd7,Qxa6', 'Bg5,Qc8+,Rd8,Qxc7,Qxc7,Rxc7,Bxh6', 'https://lichess.org/training/GRATz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gRETG', 'Blitz', 'Tumbi', 2278, 'NM abeltre', 2342, 'e4,c5,Nc3,e6,Nf3,a6,d4,cxd4,Nxd4,Qc7,Be2,Nf6,Bd2,b5,O-O,b4,Na4,Nxe4,Bf3,Bb7,Be3,d5,c4,Nd7,cxd5,exd5,Rc1,Qa5,b3,Be7,Nc6,Bxc6,Rxc6,O-O', 'Bxe4,dxe4,Qxd7', 'https://lichess.org/training/gRETG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GreWX', 'Blitz', 'FM nonsopolo', 2153, 'nikodin', 2358, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,d6,g4,Ne7,Bg2,Nbc6,O-O,Bd7,Be3,Nxd4,Bxd4,Nc6,Be3,Be7,f4,O-O,g5,b5,a3,Rc8,h4,Na5,Qh5,Nc4,Bc1,Rc5,Qf3,Qb6,Kh1,Rc7,b3,Na5,Bb2,Bc6,Qg3,Bb7,Rad1,Rfc8,Rd3,Bf8,h5,Nc6,g6,fxg6,hxg6,hxg6,Qxg6,Nd8,Rh3,Qd4,Nd1,Qd2,f5,Rxc2,Qh7+,Kf7,fxe6+,Ke7,Qh4+,Kxe6,Qg4+,Ke7,Qh4+,Kd7,Qg4+,Kc7,Rxf8,Rxb2,Rh7,Rb1,Rxg7+,Kb8,Rxb7+,Kxb7,e5+,d5,Qd7+,Rc7', 'Bxd5+,Qxd5+,Qxd5+', 'https://lichess.org/training/GreWX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GrEZz', 'Rapid', 'horest', 1785, 'moses32', 1787, 'e4,c5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d3,e5,O-O,Nf6,Bg5,Be7,Nbd2,Bg4,h3,Be6,Nb3,Qd7,Na5,h6,Bh4,Rb8,Nb3,g5,Bg3,g4,Nh4,gxh3,f4,Bg4,Qe1,hxg2,Rf2,Nh5,Rxg2,Nxf4,Bxf4,exf4,Qf2,Bh3,Rh2,Rg8+,Kh1,Bg5,Rg1,Kd8,Qf3,Be6,Ng2,Bg4,Qf2,f3,Ne3,Bxe3,Qxe3,h5,Rxh5,Bxh5,Rxg8+,Kc7,Rxb8', 'Qh3+,Kg1,Qg2#', 'https://lichess.org/training/GrEZz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gRfGJ', 'Blitz', 'Ruslan1106', 1797, 'Ruslan098', 1819, 'e4,e5,Qf3,Nc6,Bc4,Nf6,c3,g6,d3,Bg7,h3,Na5,Bb5,c6,Ba4,b5,Bc2,d5,Nd2,O-O,g4,Qd6,Ne2,c5,Rg1,Rd8,Ng3,dxe4,dxe4,Bh6,Nf5,Bxd2+,Kf1,Bxf5,gxf5,Bxc1,fxg6,fxg6,b4,Bb2,Rd1,Qe6,bxa5,Rxd1+,Qxd1,Bxc3,Qd3,Bd4,Qxb5,Rf8,Bb3,Qxb3,Qxb3+,Kh8,Ke2,Nxe4,Qe6,Rxf2+,Kd3,Nc3,Qe8+,Kg7,h4,Rf3+,Kc4,Bxg1,Qxe5+,Rf6,Qxc3,Bd4,Qg3,Kh6,Qc7,Kh5,Qxa7,Kxh4,Qe7,Kh5,a4,g5,Qb7,Rf4,Kb5,Be3,a6', 'Rb4+,Kc6,Rxb7,axb7,Bf4', 'https://lichess.org/training/gRfGJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gRgGD', 'Rapid', 'KENDRICK_ROY', 1605, 'ottokowal', 1600, 'e4,e5,Bc4,Qf6,Nf3,Nc6,O-O,d6,Nc3,a6,Nd5,Qd8,d4,Be6,dxe5,Bxd5,exd5,Nd4,Nxd4,dxe5,Nf3,e4,Nd4,Bc5,c3,Nf6,Bg5,h6,Bxf6,Qxf6,Qe2,Bxd4,cxd4,Qxd4,Rac1,O-O,Rcd1,Qe5,f4,Qf6,Qxe4,Rae8,Qc2,b5,Bb3,Rc8,Qc5,Qxb2,d6,cxd6,Qxd6,Qc3,Rc1', 'Qe3+,Kh1,Rxc1', 'https://lichess.org/training/gRgGD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gRgtX', 'Rapid', 'B70589783FRED', 1759, 'Zenrub', 1789, 'd4,Nf6,c3,g6,g3,Bg7,Bg2,d6,Nf3,Nbd7,O-O,O-O,b3,e5,dxe5,Nxe5,Nxe5,dxe5,Qxd8,Rxd8,Bg5,c6,c4,Rd6,Nc3,Be6,Rad1,Rad8,Rxd6,Rxd6,e3,Rd2', 'Bxf6,Bxf6,Ne4,Rxa2,Nxf6+', 'https://lichess.org/training/gRgtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('grhc2', 'Rapid', 'novosibnektybyf50', 1746, 'ferrucciolari', 1772, 'd4,f5,Nf3,Nf6,Bg5,h6,Bh4,g5,Bg3,f4,Ne5,Rg8,e4,d6,Ng4,Nxg4,Be2,h5,h3,Nf6,Bxh5+,Nxh5,Qxh5+,Kd7,d5,c6,Nc3,fxg3,fxg3,Qa5,O-O-O,Kc7,Rhf1,Nd7,Kb1,Nf6,Qf7,Bg7,Rxf6,Bxf6,Qxg8,Bg4,Qxa8,Bxd1,Nxd1,Qe1,Kc1,g4,dxc6', 'Bg5+,Kb1,Qxd1#', 'https://lichess.org/training/grhc2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('grhUh', 'Classical', 'anu9567', 1677, 'hander22', 1706, 'd4,d5,Nc3,c6,a3,Nf6,f3,g6,e3,Bg7,Nge2,O-O,b3,Bf5,Bb2,Nbd7,Qd2,b6,O-O-O,a6,g4,Be6,h4,c5,Nf4,c4,Nxe6,fxe6,b4,e5,Ne2,Rc8,c3,b5,h5,g5,h6,Bh8,e4,Rf7,Qxg5+,Bg7,hxg7,Rxg7,Qd2,dxe4,g5,e3,Qxe3,Nd5,Qe4,e6,dxe5,Qxg5+,f4,Nxf4,Nxf4,Rf8,Rh5,Qxf4+,Qxf4,Rxf4,Re1', 'Rg1,Bxc4,Rxe1+', 'https://lichess.org/training/grhUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gRiGm', 'Rapid', 'eop', 1916, 'Capitan10', 2007, 'e4,c5,Bc4,Nc6,a3,e6,Nf3,d5,exd5,exd5,Ba2,Nf6,d3,Be7,h3,O-O,O-O,Bf5,Nc3,Qd7,Kh2,Bd6+,Kg1,Bxh3,Bg5,Bxg2,Kxg2,Qg4+,Kh1,Qh3+,Kg1,Ng4,Re1,Rae8,Bxd5,Bh2+,Nxh2', 'Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/gRiGm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GRJjr', 'Blitz', 'vigneshkamakoti', 1645, 'dursunn', 1754, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,d3,h6,O-O,O-O,h3,d6,Nbd2,Bd7,Ba4,Qc8,Nc4,Bxh3,gxh3,Qxh3,Nh2,Nh5,Qf3,Qh4,Be3,f5,exf5,Rf6,Qg4,Qxg4+,Nxg4,Rxf5,Bxc6,bxc6,Bxc5,dxc5,Ngxe5,Nf4,f3,Rg5+,Kf2,Nh3+,Ke1,Re8,Kd2,Rg2+,Kc1,Nf4,d4,cxd4,cxd4,Ne2+,Kd1,Nxd4,Ne3,Re2,N5c4,Rd8,Kc1,Rh2,Ng4,Re2,Nge3,Nb5,b3,Nc3,a4,Rd3,Ng4,Rd5,Nce3,Rdd2,Nc4,Na2+,Kb1', 'Nc3+,Kc1,Rc2#', 'https://lichess.org/training/GRJjr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('grKnV', 'Rapid', 'aymannnnn', 1870, 'JulioMontes_ESAN', 1958, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Bg3,O-O,Bd3,a6,Nbd2,Nbd7,c3,Nh5,Bxd6,cxd6,h4,Nhf6,Ng5,h6,Qf3,b5,Nh3,e5,e4,dxe4,Nxe4,d5,Nxf6+,Nxf6,dxe5,Re8,O-O-O,Rxe5,g4,Bb7,Qf4,Re7,Rhe1,Rxe1,Rxe1,d4,g5,dxc3,gxf6,cxb2+,Kxb2,Qxd3,fxg7,Rc8,Rc1,Rxc1,Qxc1,Qxh3', 'Qxh6,Qxh4,Qxh4', 'https://lichess.org/training/grKnV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GrLKm', 'Rapid', 'olegop', 1877, 'Guseuh8', 1916, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,O-O,Nf6,Bxc6,Bxc6,dxe5,dxe5,Nxe5,Bxe4,Qe2,Be7,Bg5,Bg6,Bxf6,gxf6,Rd1,Qc8,Nxg6,hxg6,Re1,Qd7,Nc3,Kf8,Rad1,Bd6,Qf3,Bxh2+,Kf1,Bd6,Qxf6', 'Rh1+,Ke2,Re8+', 'https://lichess.org/training/GrLKm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gRmCH', 'Blitz', 'AN0JA', 1652, 'nileshchandra', 1669, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,Nc6,d3,Nd4,h3,Bxf3,gxf3,c6,Be3,b5,Bb3,a5,Bxd4', 'exd4,Ne2,a4,Bxf7+,Kxf7', 'https://lichess.org/training/gRmCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gRndR', 'Rapid', 'sutrserpa', 1929, 'floor_gales', 2026, 'e4,e5,f4,exf4,Nf3,Nf6,Nc3,d5,exd5,Nxd5,Bb5+,c6,Qe2+,Be6,Nxd5,Qxd5,c4,Qh5,Ba4,Bd6,O-O,O-O,d4,Na6,c5,Bc7,Bxc6,Nxc5,b4,bxc6,dxc5,a5,Bd2,axb4,Bxb4,Be5', 'Qxe5,Qxe5,Nxe5', 'https://lichess.org/training/gRndR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gRRoo', 'Rapid', 'ChesterAcuyong', 1864, 'lukasaric', 1855, 'e4,e5,Nf3,f5,exf5,Nf6,Bc4,d5,Bb5+,c6,Ba4,e4,Qe2,Bxf5,d3,Bd6,Bg5,O-O,dxe4,dxe4,Nd4,Bb4+,c3,Qxd4,Be3,Bxc3+,Nxc3,Qb4,O-O,Bg4,Qc2,Na6,h3,Bh5,Bb3+,Kh8,Bg5,g6,Bxf6+,Rxf6,Nxe4,Rf4,Ng3,Nc5,Nxh5,gxh5,Rad1,Raf8,Qe2,Ne4,g3,Rf3,Rde1,Nd2,Qe5+,R3f6,Re3,Nxf1,Kxf1,Qd2,Rf3,Qd8,g4,Qd6', 'Qxd6,Rxd6,Rxf8+', 'https://lichess.org/training/gRRoo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gRSVw', 'Classical', 'sart201', 1665, 'Srbathory', 1615, 'd4,d5,c4,dxc4,e4,Nc6,Nf3,Nf6,Nc3,Bg4,d5,Bxf3,Qxf3,Ne5,Qd1,g6,Bf4,Qd6,Bxe5,Qxe5,Bxc4,Nxe4,Bb5+,c6,dxc6,Nxc3+,Qe2,Nxe2', 'cxb7+,Qxb5,bxa8=Q+', 'https://lichess.org/training/gRSVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GrT9w', 'Rapid', 'rizzir', 1664, 'Graanakker', 1666, 'd4,c5,c3,cxd4,cxd4,e6,e4,a6,Nc3,Bb4,a3,Ba5,b4,Bb6,Nf3,h6,Bd3,d6,O-O,Bd7,Bb2,Nf6,Ne2,e5,dxe5,dxe5,Nxe5,Nc6,Nxd7,Qxd7,e5,Nh7,Nf4,O-O-O,Qe2,g5,Rad1,gxf4,Bxh7,Rxh7,Rxd7,Rxd7,Qg4,f6,exf6,Kc7,Qxf4+,Kc8,Qf5,Kb8,Qf4+,Bc7,Qg4,Be5,Bxe5+,Nxe5,Qf4,Rd5,Re1,Ka8,h4,Nd3,Qe4,Rhd7,Qe8+,Ka7,Re7,Rd8,Qg6,Ne5,Qxh6', 'Rd1+,Kh2,Ng4+,Kh3,Nxh6', 'https://lichess.org/training/GrT9w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GrTAJ', 'Rapid', 'porrrwal', 1660, 'conrad_kurtz', 1630, 'e4,e6,Qf3,d5,d3,dxe4,Qxe4,Nf6,Qf3,Bd7,Qxb7,Nc6,Qb3,Nd4,Qc4,Bb5,Qc3,e5,Be3,Nd5,Qd2,Nxe3,fxe3,Nf5,Qf2,Nd6,Nc3,Bc6,O-O-O,Be7,Nf3,Bf6,d4,Ne4,Nxe4,Bxe4,dxe5,Qe7,exf6,Qxf6,Be2,O-O,g4,Rab8,b3,Qa1+,Kd2,Rbd8+,Ke1,Rxd1+,Bxd1,Rd8,Ke2,Qc3,Qe1,Qxe1+,Kxe1', 'Rxd1+,Kxd1,Bxf3+,Ke1,Bxh1', 'https://lichess.org/training/GrTAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gRtLZ', 'Blitz', 'FM DJaeggi', 2557, 'bingo95', 2521, 'e4,Nc6,Nf3,Nf6,e5,Ng8,d4,d5,Bb5,Bf5,Nbd2,e6,c3,Ne7,O-O,h6,Re1,a6,Ba4,Qd7,Nf1,Bg6,b4,Nf5,Ng3,Be7,Bb3,O-O,Nxf5,Bxf5,Be3,f6,Bf4,Bg4,exf6,Bxf6,h3,Bxf3,Qxf3,Bg5,g3,Bxf4,gxf4,Rf6,Qg4,Raf8,Re3,Nd8,Bc2,Qd6,Rg3,R8f7,Bg6,Re7,f5,e5,dxe5,Rxe5,Rd1,b5,a3,c6,Kg2,Nb7', 'Bh7+,Kf8,Qxg7+', 'https://lichess.org/training/gRtLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GrUws', 'Classical', 'miamiking', 1897, 'katrevich70', 1837, 'e4,e5,f4,exf4,Nf3,Be7,d4,Bh4+,Ke2,d6,g3,fxg3,hxg3,Bxg3,Nc3,Bg4,Bh3,Bxf3+,Kxf3,Bh4,Bf4,Nf6,Qe2,Nh5,Bd2,Qf6+,Kg2,Ng3,Qb5+,c6,Qxb7,O-O,Qxa8,Nxh1,Kxh1,Qf3+,Bg2,Qh5,Kg1,f5,Rf1,Qg4,exf5', 'Qxd4+,Kh1,Qxd2', 'https://lichess.org/training/GrUws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GRWWO', 'Classical', 'figa1978', 1658, 'hoang27', 1623, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nh6,d3,Ng4,O-O,Qf6,Nd5,Qd6,Ng5,h6,Nxf7,Kxf7,Qxg4,Kf8,Qf5+,Ke8,b4,Nxb4,Nxb4,Rf8,Qh5+,Kd8,Nd5,c6,Qh4+,Ke8,Qg3,cxd5,Bxd5,Qb6,Be3,Bxe3,fxe3,Rxf1+,Rxf1,g5,Qf3,Kd8,Qf6+,Kc7,Qxe5+,d6,Rf7+,Bd7,Qe7,Qxe3+,Kf1,Qc1+,Ke2,Qxc2+,Ke3,Rd8,Be6,Qa4,Rh7,Kc8,Bxd7+,Rxd7,Rh8+,Kc7,Qe8,Kb6,Rxh6,Qb5,Kf3,g4+,Kf4,Kc7,Rh7', 'Qe5+,Qxe5,dxe5+,Kxg4,Rxh7', 'https://lichess.org/training/GRWWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GrYgZ', 'Rapid', 'Kleopatra2019', 2019, 'ardefred', 2010, 'e3,d6,d4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bd3,Nbd7,Bd2,c5,Qc2,a6,h4,e5,O-O-O,Qe7,d5,b5,e4,bxc4,Bxc4,Nb6,Be2,a5,Rdg1,a4,Bg5,h6,Bxf6,Qxf6,g4,Qe7,g5,h5,Nd2,Ba6,Qd1,Bxe2,Qxe2,Rfb8,Nc4,Nxc4,Qxc4,Rb4,Qe2,Rab8,Rg3,Rxb2,Qxb2,Rxb2,Kxb2,Qb7+,Kc2,Qb4,Rb1,Qd4,Rf3,f5,gxf6,Bf8,Rb7,a3,Rb3,Bh6,f7+,Kh7,Rb8', 'Qd2+,Kb3,Qb2+,Kc4,Qxb8', 'https://lichess.org/training/GrYgZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gRZYH', 'Blitz', 'ssy', 1847, 'SE3F1', 1873, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,exd5,Bg5,Be7,Nf3,O-O,e3,Nbd7,Bd3,b6,Qc2,h6,Bh4,Bb7,O-O,Rc8,a4,c5,Qe2,cxd4,Nxd4,Nc5,Bf5,Ra8,Ncb5,Ba6,Rac1,Nxa4,Nc6,Qe8,Bd3,Qd7,Nxe7+,Qxe7,Nc7,Bxd3,Qxd3,Rac8,Nxd5,Qe5,Bxf6,gxf6,Qa3,Nxb2,Ne7+,Kg7,Nxc8,a5,Qd6,Qg5,Qxb6,Nd3,Ra1,Rxc8,Rxa5,Qg6,Rd5,Ne5,Rxe5,fxe5,Qxg6+,Kxg6,h3,f5,g4,fxg4,hxg4,Kg5,f3,Rc2,Rf2,Rc1+,Kg2,Rc3,e4,Kf4,Rf1,Re3,Rf2,Ra3,Rf1,Kg5,Rf2,h5,gxh5,Kxh5,Kg3,Kg5,Rh2,Rc3,Rh4,Ra3,Rg4+,Kf6,Rg8,Kf7,Rd8,Ra6,Rd5,Rg6+,Kf2,Kf6,Ke3,Ke6,Ra5,Rg3,Ra6+,Ke7,Kf2,Rh3,Kg2,Rh5,Kg3,Rg5+,Kh4,Rg1,Ra7+,Kd6,Ra6+,Kc5,Rf6,Kd4,Rf5,Rg8,Kh3,Ke3,Kh2,Kf2,Kh1', 'Rh8+,Rh5,Rxh5#', 'https://lichess.org/training/gRZYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GS0CY', 'Rapid', 'wahibkhairat', 2112, 'Kamal_alashkar', 2182, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,Bc4,Nb6,Bxf7+,Kxf7,Ng5+,Kg8,Qb3+,d5,e6,h6,Qf3,Qe8', 'Qf7+,Qxf7,exf7#', 'https://lichess.org/training/GS0CY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gS0O1', 'Classical', 'AsStronom', 1742, 'IDZone', 1611, 'e4,d5,e5,d4,Bc4,e6,Nf3,a6,a4,Nc6,d3,h6,O-O,g6,Nbd2,Bg7,Re1,Nge7,Nb3,b6,Re4,Bb7,Nfxd4,Nxe5,Re1,Nxc4,dxc4,a5,Be3,O-O,Qc1,Nf5,Nxf5,exf5,Bxh6,Re8,Rxe8+,Qxe8,Bxg7,Kxg7,Qf4,Qe4,Qxe4,Bxe4,c3,c5,Nd2,Rd8,Nxe4,fxe4,Re1,f5,f3,Rd2,fxe4,Rxb2,exf5,gxf5,Re7+,Kf6,Rb7,Ke5,Kf1,Ke4,Re7+,Kd3,Re5,Kxc4,Rxf5,Kxc3,h4,Kb4,h5,c4', 'Rb5+,Ka3,Rxb2,Kxb2,h6,c3,h7', 'https://lichess.org/training/gS0O1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gs16D', 'Rapid', 'islam07', 1725, 'vigvam', 1757, 'e4,e5,d4,exd4,c3,dxc3,Bc4,c6,Nxc3,Nf6,Nf3,Bb4,Bxf7+,Kxf7,Qb3+,d5,Qxb4,dxe4,Ne5+,Ke8,Nxe4,Nxe4,Qxe4,Be6,O-O,Nd7,Nxc6,Qf6,Nd4,Nc5,Qf3,Qxd4,Re1,Qf6,Qh5+,g6,Qxc5,Rc8,Qe5,Kf7,Qxf6+,Kxf6,b3,Rhe8,Bb2+,Kf7,Rac1,b5,g3,a5,Re5,Rxc1+,Bxc1,Rb8,Bf4,Rb7,Rc5,a4,bxa4,bxa4,a3,Rb1+,Kg2,h5,Rc7+,Ke8,Ra7,Bd7,Ra6,Kf7,h4,Rb3,Bd6,Bb5,Bb4,Rd3,Ra7+,Ke6,Kf1', 'Rd7+,Ke1,Rxa7', 'https://lichess.org/training/Gs16D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gs1IC', 'Rapid', 'Moustaid-Youssef', 1686, 'Dimon_Sierkov', 1686, 'e4,e5,d4,Qf6,d5,d6,Nc3,h6,Be3,c6,Qd2,Be7,O-O-O,c5,b4,b6,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Qg6,Rhg1,cxb4,Nb5,Bd8,Qxb4,a5,Qc4,Ngf6,Bxb6,Nxb6,Qc6+,Nbd7,Qxa8,Qxe4,Nc7+,Ke7,Rge1,Qf4+,Rd2,Ne4,g3,Qxf3,Rde2,Nxf2,Re3,Qh5,Qc6,Bxc7,Qxc7,Qxh2', 'Rxe5+,dxe5,Rxe5+,Kf8,Qc8#', 'https://lichess.org/training/gs1IC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GS2sD', 'Rapid', 'ana-ka', 1691, 'igrok100', 1769, 'Nf3,g6,c4,Bg7,d3,e6,e3,d5,Be2,Nd7,cxd5,exd5,Bd2,Bxb2,Nc3,Bxa1,Qxa1,Ngf6,Nxd5,c6', 'Nxf6+,Qxf6,Bc3', 'https://lichess.org/training/GS2sD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GS2Sx', 'Blitz', 'Section1', 1843, 'jrufinocosta', 1538, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Bd7,Nc3,Nc6,Be3,Nf6,Bb5,a6,Bxc6,Bxc6,f3,g6,O-O,Bg7,Qd2,O-O,Kh1,Bd7,g4,Nxg4,fxg4,Bxg4,Qf2,d5,Rg1,Bxd4,Bxd4,Bh5,Qh4,e6,Qxh5,dxe4,Rad1,e3,Qh6,f6,Bxe3,Qc7,Rdf1,Rfd8,Rg3,Qc6+,Kg1,Rac8,Rh3,Rd7,Bd4,e5,Be3,Qe6,Ne4,f5,Ng5,Qe7,Nf3,e4,Ng5,Rxc2,Rg3,Qd6,Rxf5', 'Qd1+,Rf1,Qxf1+,Kxf1,Rd1#', 'https://lichess.org/training/GS2Sx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gs34J', 'Blitz', 'Coron111a', 2149, 'A99ers', 2116, 'd4,e6,Nf3,f5,c4,Nf6,g3,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Bg2,Ne4,Qc2,d6,Nc3,Nxc3,Qxc3,a5,O-O,Qe8,Rfe1,Nc6,d5,Nb4,dxe6,Bxe6,a3,Na6,Nd4,c6,Nxe6,Qxe6,e4,f4,e5,d5,cxd5,cxd5,Rad1,Rad8,Qxa5,f3,Bf1,Rf5,Bxa6,Ra8,Rxd5,bxa6,Rd8+,Rxd8,Qxd8+,Kf7,Rd1,Rxe5,Rd7+,Kg6,h4,Re1+,Kh2', 'Rh1+,Kxh1,Qh3+,Kg1,Qg2#', 'https://lichess.org/training/Gs34J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gs4GJ', 'Blitz', 'ritikjain', 1713, 'Gigah', 1692, 'e4,c5,Nc3,d6,Bc4,h6,d3,a6,a4,e5,Nf3,Nf6,O-O,Nc6,Nd5,Be7,Nxe7,Qxe7,c3,O-O,Be3,Bd7,Nh4,Nxe4,Nf5,Bxf5,dxe4,Bxe4,Qg4,Bg6,f4,exf4,Bxf4,Ne5,Bxe5,Qxe5,Rfe1,Qf6,Rad1,Qd8,Rf1,Bc2,Rd2,Bxa4,Rdf2,Bd7,Qg3,Be6', 'Bxe6,fxe6,Rxf8+,Qxf8,Rxf8+', 'https://lichess.org/training/Gs4GJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gS4Jl', 'Blitz', 'chiragcool89', 1531, 'finogen62', 1664, 'e4,c5,Nf3,Nc6,e5,e6,Bb5,g6,O-O,Bg7,d4,cxd4,Bxc6,bxc6,Nxd4,Ne7,Nf3,O-O,Bg5,f6,Bxf6,Bxf6,exf6,Rxf6,Ne5,Qf8,Nxd7,Bxd7,Qxd7,a5,Nc3,Rd8,Qc7,a4,Ne4,Nd5,Nxf6+,Nxf6,Qxc6,Rd6,Qxa4,Kg7,Qb4,Qd8,a4,Nh5,Qb7+,Rd7,Qe4,Qf6,a5,Nf4,a6,Rd4,Qb7+,Kh6,a7,Ne2+,Kh1,Rh4,a8=Q', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/gS4Jl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gs5ef', 'Classical', 'Emilabdullayev', 1614, 'Klore', 1635, 'e4,e5,Qf3,Nf6,Bc4,Nc6,c3,d6,h3,Na5,Bb3,Nxb3,axb3,Be7,d3,O-O,Ne2,d5,Qg3,b6,Bh6,Nh5,Qxe5,gxh6,Qxh5,Bg5,Na3,dxe4,dxe4,Qd6,O-O,Be6,b4,Qd2,Rab1,Ba2,Rfd1,Bxb1,Rxd2,Bxd2,Nxb1,Bg5,Ng3,Rad8,Nf5,Rd3,Nxh6+,Kh8,Nxf7+,Rxf7,Qxf7,Rd1+,Kh2,Rxb1,b3,Re1,f3,Rd1,Qe8+,Kg7,Qe5+,Bf6,Qxc7+,Kg6,Qxa7,Be5+,g3,Rd2+,Kg1,Rd1+,Kf2,Rd2+,Ke1,Bxc3,Qxb6+', 'Rd6+,Ke2,Rxb6', 'https://lichess.org/training/gs5ef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gs7kg', 'Rapid', 'granpedone', 1719, 'quaz3', 1689, 'e4,c5,Nf3,Nc6,Be2,Nf6,d4,Nxe4,dxc5,Nxc5,O-O,Ne6,c4,g6,Nc3,Bg7,Bd2,O-O,Rb1,Ned4,Nxd4,Bxd4,Be3,Bxe3,fxe3,d6,b4,Ne5,Qd4,Be6,Rbc1,a6,a4,Rc8,Nd1,Nc6,Qb2,Qd7,b5,axb5,cxb5,Ne5,Nc3,b6,e4,Bc4,Bxc4,Nxc4,Qe2,Na5,Nd5,Qb7,Qf2,Rc5,Qb2,e6,Nf6+,Kh8,Nd7+,Kg8,Nxf8,Kxf8,Qh8+,Ke7,Qxh7,Kf8,Qh8+,Ke7,Qg8,Rxc1,Qxf7+,Kd8,Qxb7', 'Rxf1+,Kxf1,Nxb7', 'https://lichess.org/training/gs7kg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gs9j8', 'Classical', 'Petrojan', 1821, 'doodoshvili', 1780, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,Ng4,d5,c3,Nc6,Be2,Bxg4,Bxg4,Ne5,Bh3,Nd3+,Kf1,dxe4', 'Qa4+,c6,Qxe4+', 'https://lichess.org/training/gs9j8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gs9Lk', 'Rapid', 'Zhain', 1849, 'masperado', 1847, 'd4,f5,Nf3,e6,Bf4,Nf6,e3,b6,Bd3,Bb7,Nbd2,Bd6,Bg5,O-O,Ne5,Bxg2,Rg1,Bb7,Bxf6,Qxf6,Qh5,Bxe5,dxe5,Qxe5,O-O-O,Na6,f4,Qf6,Nc4,Nb4,Kb1,Nxd3,Rxd3,Ba6,Rxd7,Rf7,Ne5,Rxd7,Nxd7,Qf7,Qf3,Rd8,Ne5,Qe7', 'Nc6,Qf6,Nxd8', 'https://lichess.org/training/gs9Lk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GSBE7', 'Rapid', 'Muleskinner', 1885, 'pinturicchio7', 1805, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Bxc6,Bxc6,Nc3,exd4,Nxd4,Qd7,O-O,h6,Bf4,g5,Bg3,h5,f3,O-O-O,Nd5,Bg7,Bf2,g4,Bh4,Re8,Qd2,Bxd5,exd5,Nf6,c4,Re5,Bg3,Re7,b4,h4,Bf2,g3,hxg3,hxg3,Bxg3,Nh5,Bh2,Be5,g4,Rg8,Kf2,Nf6,Bxe5,Rxe5,Qf4', 'Nxg4+,fxg4,Rxg4', 'https://lichess.org/training/GSBE7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gsboX', 'Classical', 'Paky', 1896, 'LightKnight73', 2021, 'd4,d5,Nf3,Nc6,c4,Bg4,e3,e5,dxe5,Nxe5,Qa4+,Nc6,Be2,dxc4,Qxc4,Nf6,O-O,Bxf3,Bxf3,Ne5,Qb5+,Nfd7,Qxb7,Rb8,Qe4,Bd6,b3,O-O,Bb2,Qf6,Nd2', 'Nxf3+,Qxf3,Qxb2', 'https://lichess.org/training/gsboX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GscsZ', 'Rapid', 'mohamedhasani4', 1677, 'aleks_kudrevatyh', 1751, 'e4,e5,Qf3,Nf6,Bc4,Bc5,d3,d6,h3,h6,Nc3,Nc6,Nge2,O-O,Nd5,Nxd5,Bxd5,Nd4,Nxd4,Bxd4,Qg3,Qf6,O-O,c6,Bb3,Be6,Kh1,Qg6', 'Qxg6,fxg6,Bxe6+', 'https://lichess.org/training/GscsZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gSD9U', 'Classical', 'Mayuresh12345', 1779, 'trumpmagawinning', 1732, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nc6,Bxf6,gxf6,Bc4,b5,Bd5,Nxd4,Bxa8,e5,Ne2,Bg4,f3,Nxf3+,gxf3,Bxf3,Rf1,Bxe2,Qxe2,Qxa8,Rxf6,Be7,Rf1,d5,exd5,Qxd5,b3,Bh4+,Rf2,Qh1+,Qf1,Qxh2,O-O-O,Qxf2,Qh1,O-O,Rg1+,Kh8,Rf1,Bg5+,Kb1,Qd4,Qh5,Qh4,Qf3,Qf4,Qd3,Rd8,Qh3,Qd4,Qf5,Bf4,Rh1,h6,Qxf7,Rf8,Qg6,Rg8', 'Rxh6+,Bxh6,Qxh6#', 'https://lichess.org/training/gSD9U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gSEek', 'Blitz', 'NM TioCridineno', 2409, 'Spitfire_hunter', 2008, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,a3,Nf6,f4,d6,Be3,Nbd7,Bd3,Be7,O-O,b5,g4,Bb7,g5,Ng8,h4,h6,g6,fxg6,Nxe6,Qc6,Qg4,Nf8,Nxf8,Kxf8,Qxg6,Nf6,Ne2,d5,Nd4,Qd7,f5,Rh7,Ne6+,Kg8,e5,Ne4,Bxh6,Bxh4,Be3,Qf7,Rad1,Qxg6+,fxg6,Rh5,Bd4,Bg3,Rf7,Bxe5,Rxg7+,Kh8,Rxb7,Bxd4+,Nxd4,Rg5+,Kh2,Rxg6,Rf1,Rag8,Bxe4', 'Rh6#', 'https://lichess.org/training/gSEek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gSEnf', 'Rapid', 'Autumnal', 2333, 'chacosiempre', 2262, 'e4,e5,d4,exd4,Nf3,c5,Bc4,Be7,c3,Nf6,e5,Ne4,Bd5,Ng5,Nxg5,Bxg5,Qh5,Qe7,Qxg5,f6,Qg3,Nc6,O-O,Nxe5,f4,Qd6,fxe5,Qxd5,exf6,gxf6,Re1+,Kd8,Qg7,Rg8,Qxf6+,Kc7,Bf4+,d6,Bg3,Bd7,Qf2,Raf8,Qd2,d3,c4,Qxc4,Nc3,Qd4+,Kh1,Bc6,Rad1,c4,Qe3', 'Rf1+,Rxf1,Qxe3', 'https://lichess.org/training/gSEnf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gSfuY', 'Classical', 'Harry-503', 1947, 'st-yuki', 1879, 'd4,Nf6,c3,g6,e3,Bg7,f4,O-O,Nf3,d6,Bd3,Bd7,O-O,c5,Re1,b5,Qe2,c4,Bc2,Qb6,Nbd2,a6,a3,Nc6,e4,e5,fxe5,dxe5,Kh1,Rfe8,d5,Na7,Nf1,Qc7,Bd2,Nc8,Rad1,Nd6,Bc1,Nh5,g3,f5,N1d2,f4,Kg2,Qc8,Qf2,Bh3+,Kg1,Qg4,Nf1,Rf8,N1d2,fxg3,hxg3,Nxg3,Kh2,Bf6', 'Qxg3,Qxg3+,Kxg3', 'https://lichess.org/training/gSfuY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GsH1B', 'Rapid', 'FWNietzsche', 2054, 'Babola73', 1982, 'e4,c5,Nf3,d6,d3,Nc6,g3,Bg4,Bg2,Nf6,O-O,Qd7,Re1,Nd4,c3,Nxf3+,Bxf3,Bxf3,Qxf3,Qh3,Qg2,Qxg2+,Kxg2,h5,h4,g6,e5,dxe5,Rxe5,b6,f3,O-O-O,Re3,Bh6,f4,Rhe8,Na3,e5,Rxe5,Rxe5,fxe5,Ng4,Bxh6,Nxh6,Rd1,Ng4,Nc4', 'b5,Re1,bxc4', 'https://lichess.org/training/GsH1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gsi5x', 'Blitz', 'lis__nn', 1888, 'descentrado', 1900, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,bxc3,d5,Bd3,O-O,Qc2,f5,Bf4,a6,Ne5,Nxe5,Bxe5,c6,Rab1,Qh4,g3,Qh5,f3,Nf6,c4,Nd7,Bf4,g5,Bd6,Rf6,Bc7,f4,g4,Qf7,cxd5,cxd5,Bf5,h5,h3,hxg4,hxg4,b5,Kg2,Nf8,Be5,Bxf5,gxf5,Rxf5,Rh1,Ng6,Qc6,Rf8,Bd6,Qf6,Qd7,Rd8', 'Qh7#', 'https://lichess.org/training/gsi5x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gSiKW', 'Blitz', 'querub', 1768, 'Kakelschaak', 1728, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,Be7,Be2,a6,Na3,b5,Bxf6,gxf6,Nd5,f5,Nxe7,Qxe7,Bf3,f4,Qd5,Bb7,O-O-O,Nd4,Rxd4,Bxd5,Rxd5,O-O,Rhd1,Rfd8,h3,Rac8,c3,b4,Nb1,Rc5,R5d3,bxc3,Nxc3,Qe6,Kb1,Kf8,Bg4,Qe7,Nd5,Qg5,Rb3,h5,Bf3,f5,Rb7,Rb5,Rh7,Rdb8,b3,Qg6,Rh8+,Kg7,Bxh5,Qxg2,Rxb8,Qxe4+,Ka1,Rxb8,f3,Qe2,Rc1,Kh6,Bf7,Qxf3,Rg1,Rb5,Rg6+,Kh7', 'Nf6+,Kh8,Rg8#', 'https://lichess.org/training/gSiKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gsjf2', 'Rapid', 'Maharshi_Joshi', 1903, 'Ghoulean', 1795, 'd4,Nf6,Bf4,g6,Nf3,Bg7,e3,O-O,Bd3,d6,c3,Nbd7,Nbd2,Re8,O-O,e5,dxe5,dxe5,Bg5,h6,Bxf6,Nxf6,Qc2,Bg4,Be4,Nxe4,Qxe4,Bxf3,Nxf3,c6,Rfd1,Qb6,Qc2,e4,Nd2,f5,Nc4,Qc7,Qb3,Kh8,Nd6,Rf8,Qxb7,Qxb7,Nxb7,Rab8,Na5,Rxb2,Nxc6,Bxc3,Ne7,Kg7,Rd7,a5', 'Nd5+,Rf7,Rxf7+,Kxf7,Nxc3', 'https://lichess.org/training/Gsjf2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GSkAO', 'Rapid', 'davidraaz', 1856, 'chradin', 1847, 'e4,c5,f4,Nc6,Nf3,e6,Bc4,d5,exd5,exd5,Bb5,Bd6,d3,Ne7,O-O,O-O,Nc3,d4,Ne4,a6,Bxc6,Nxc6,Nfg5,h6,Qh5,hxg5,Nxg5,Bf5,g4,f6', 'gxf5,fxg5,fxg5', 'https://lichess.org/training/GSkAO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GskW0', 'Blitz', 'Matecosido02', 2311, 'IM MannySen', 2457, 'c4,e6,Nc3,d5,d4,c5,cxd5,exd5,Nf3,Nc6,g3,Nf6,Bg2,Be7,O-O,O-O,dxc5,Bxc5,Bg5,d4,Bxf6,Qxf6,Nd5,Qd8,Nd2,Bh3,Bxh3,Qxd5,Bg2,Qd7,Ne4,Bb6,Rc1,Qe7,Qc2,Rfe8,Bf3,Ne5,Bg2,f5,Nc5,Rac8,Qb3+,Nf7,Nxb7,Rxc1,Rxc1,Qxe2,Nd6,Rf8,Bd5,d3,Bxf7+,Kh8,Rf1,d2,Qd1,Bxf2+,Kg2,Qe1,Rxe1', 'dxe1=Q,Qxe1,Bxe1', 'https://lichess.org/training/GskW0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gsm6q', 'Rapid', 'nikitozzz', 1687, 'evgen417', 1612, 'd4,d6,Bg5,Bf5,Nf3,h6,Bh4,Nf6,Nbd2,Nbd7,e3,Bg4,h3,Bxf3,Qxf3,b6,Bb5,a6,Bc6,Rb8,d5,g6,Ne4,Bg7,Nxf6+,Bxf6,Bxf6,exf6,Bxd7+,Qxd7,Qxf6,O-O,O-O,Qb5,e4,Qe2,f3,Qxc2,Rac1,Qa4,Rxc7,Qxa2,Qxd6,Qxb2,Rfc1,a5,e5,a4,e6,f6,e7,Rfe8,R1c2,Qb1+,Kh2,Qa1,Qe6+,Kg7,d6,Qe5+,Qxe5,fxe5,Re2,Kf6,g4,a3,Ra7,Ke6,Rd2,b5,Rxa3,b4,Rb3,Rb7,Re2,g5,Rd2,Kd7,Rd5,Rb6,Rxe5,Kxd6,Re4,Rxe7', 'Rd3+,Kc5,Rxe7', 'https://lichess.org/training/Gsm6q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GSMdf', 'Rapid', 'El_practicante', 2214, 'ITS_PARTING', 2160, 'e4,d5,exd5,Nf6,d4,Bg4,f3,Bf5,c4,e6,dxe6,Nc6,exf7+,Kxf7,d5,Bb4+,Nc3,Re8+,Be2,Ne5,Kf1,Nh5,g4,Qh4,Qe1,Qf6,gxh5,Nd3,Qg3,Bxc3,Bg5,Qd4,bxc3,Qxc3,Rb1,h6,Bf4,Qd4,Bxc7,Re7,d6,Rxe2,Nxe2', 'Bh3+,Qxh3,Qf2#', 'https://lichess.org/training/GSMdf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gsnbT', 'Rapid', 'MR1Black3SkY', 2051, 'kyky22', 2078, 'd4,d5,c4,c6,g3,e6,Bg2,f5,Nf3,Nf6,O-O,Be7,Re1,O-O,b3,Bd7,Ba3,Be8,Bxe7,Qxe7,Nc3,h6,Na4,Nbd7,Nb2,Ne4,Nd3,Bh5,Qc2,Rac8,Nfe5,Nxe5,Nxe5,Nf6,f3,Nd7,e4,fxe4,fxe4,Nxe5,dxe5,Qc5+,Kh1,Rf2,Qd3,Rcf8,exd5,exd5,cxd5,Bf3,Bxf3,R8xf3,Qg6,Qxd5,Qe4,Qd2,Qc4+,Kh8,Qh4,Rg2,Rad1,Qxa2,Rd8+,Kh7,Qe4+,g6,Rd7+,Kh8,Qxf3,Rf2,Qe4', 'Rxh2+,Kg1,Qf2#', 'https://lichess.org/training/gsnbT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GsoF2', 'Rapid', 'halir', 2159, 'marketingpion', 2189, 'e4,e6,Nf3,d5,Nc3,c5,Bb5+,Nc6,exd5,exd5,O-O,Be6,d4,c4,Re1,Ne7,Ng5,Qd7,Nxe6,fxe6,Qg4,O-O-O,Bg5,h5,Qxe6,Qxe6,Rxe6,Nxd4,Rxe7,Bxe7,Bxe7,Nxb5,Bxd8,Nxc3,bxc3,Kxd8,Rd1,Re8,Kf1,Re5,f4,Rf5,g3,Kc7,Kf2,Kc6,Kf3,Kc5,Re1,Rf7,Re5,g6,g4,hxg4+,Kxg4,Rh7,h4,b5,Kg5,b4,cxb4+,Kxb4,Rxd5', 'Rh5+,Kxg6,Rxd5', 'https://lichess.org/training/GsoF2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gspCN', 'Blitz', 'jean111', 1771, 'Jure_TheDuck', 1743, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,h3,h6,d3,d6,Be3,Be6,Qd2,O-O,Bxh6,gxh6,Qxh6,Re8,g4,Nh7,h4,Qf6,g5,Qxf3,g6,Qxh1+,Ke2,Qxa1,Bxe6,Rxe6', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/gspCN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GSpyK', 'Blitz', 'redblizzard', 2383, 'IM LRiemersma', 2387, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,bxc6,O-O,Bg7,c3,Nh6,d4,cxd4,cxd4,O-O,Nc3,d6,h3,f6,Qc2,Bd7,Be3,Nf7,Rac1,f5,Rfe1,fxe4,Nxe4,Bf5,Nh4,Bd7,Nf3,Bf5,Nh4,Bd7,Ng5,e5,Nhf3,Nxg5,Bxg5,Qe8,dxe5,dxe5,Qc5,Bxh3,Nxe5,Be6,Nxc6,Qf7,Qe3,Bxa2,Ne7+,Kh8,Rc7,Rae8,Rxa7,Qc4,Bh6,Bd4,Nxg6+,hxg6,Qxe8', 'Bxf2+,Kh2,Qh4#', 'https://lichess.org/training/GSpyK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gSQcV', 'Blitz', 'FM Sunset_Boulevard', 2475, 'STKA1969', 2324, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Nf3,e5,Be3,Nc6,d5,Ne7,Nd2,Ne8,f3,c5,O-O,f5,a3,f4,Bf2,g5,b4,b6,Rb1,Rf7,a4,Bf8,a5,Rg7,g4,fxg3,hxg3,g4,Re1,gxf3,Bxf3,Nf6,axb6,axb6,bxc5,bxc5,Qb3,Ng4,Qb6,Qd7,Qb5,Qd8,Qb6,Qe8,Qxd6,Qh5,Bxg4,Bxg4,Qc7,Nxd5,Qxg7+,Bxg7,exd5,Bf3,Nxf3,Qxf3,Re3,Qg4,Ne4,Ra2,Rb8+,Kf7,Rb7+,Kg6,Rb6+,Kh5,Kg2,Qf5,Rb7,Bh6,Re1,Bg5,Rb6,Kg4,Rb7,Qf3+,Kg1,h6,Rh7,Rxf2,Nxf2+,Kxg3,Nh1+,Kh3,Nf2+,Kg3,Ne4+,Kh4,Rg7', 'Be3+,Rxe3,Qxe3+', 'https://lichess.org/training/gSQcV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gsr3R', 'Blitz', 'YuliRMCF', 1698, 'VincenzoS7', 1542, 'c4,e5,g3,Nc6,Bg2,Nf6,e4,Bc5,h3,d6,Ne2,b6,O-O,Bb7,d3,Nd4,Nbc3,Nxe2+,Nxe2,O-O,Bg5,h6,Bxh6,gxh6,Qd2,Nh7,Qxh6,Qf6,Qd2,c6,Kh2,d5,f4,dxc4,dxc4,Rad8,Qc1,Kh8,fxe5,Qxe5,Rf5,Qg7,Rg5,Nxg5,Nf4,Rg8,Nh5,Qg6,g4,Bd6+,Kh1,Nxh3,Bxh3,Qxe4+,Kg1,Bc5+,Kh2,Qe2+,Bg2,Rxg4', 'Qh6+,Kg8,Nf6#', 'https://lichess.org/training/Gsr3R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gSrhk', 'Blitz', 'DeepBleu', 2050, 'IM ChessExplained', 2489, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,h5,Be2,e6,Bg5,Qa5,Qd2,Nxd4,Bxf6,Nxc2+,Qxc2,gxf6,O-O-O,a6,f4,b5,Kb1,Bb7,Bf3,b4,Ne2,Rc8,Qd3,d6,Nd4,Be7,e5,Bxf3,Nxf3,d5,Rc1,Kd7,Qd4,Bc5,Qd3,f5,Rc2,Bb6,Rd2,Rc4,Ng5,Ke7,g3,Rhc8,Qe2,b3,axb3,R4c7,Qxh5,Rf8,Qe2,Qb5,Qxb5,axb5,Rc1', 'Rxc1+,Kxc1,Be3', 'https://lichess.org/training/gSrhk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gsRnd', 'Blitz', 'FM Lastro', 2605, 'FM ChainsOfFantasia', 2572, 'd4,Nf6,Bg5,Ne4,Bf4,g5,Bc1,g4,f3,gxf3,exf3,Nd6,c4,e6,Bd3,b6,Ne2,Bh6,O-O,Bxc1,Qxc1,Nc6,Nbc3,Bb7,c5,bxc5,dxc5,Nc8,Qh6,Ne5,Be4,Bxe4,Nxe4,f5,Qg7,Nf7,Nf6+,Ke7,Nd4,Qf8,Nxf5+,Kd8,Rad1,d5,cxd6,Ncxd6,Nxd6,cxd6,Qg3,Qe7,Ne4,e5,Rd5,Ke8,Rfd1,Rd8,f4,Qe6,fxe5,dxe5,Rxd8+,Nxd8,Rd6,Qf5,Nf6+,Ke7,Rd7+,Kxf6', 'Qg7+,Ke6,Qe7#', 'https://lichess.org/training/gsRnd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gSsN6', 'Blitz', 'Chanchito85', 2258, 'Andrew-Caesar', 2287, 'd4,Nf6,Nf3,c5,g3,e6,Bg2,d5,c4,cxd4,Nxd4,Nc6,Qa4,Bd7,cxd5,Bb4+,Bd2,Nxd4,Qd1,Rc8,Nc3,Nxd5,Nxd5,Bxd2+,Qxd2,Nc2+,Kf1,Nxa1,Nc3,Bc6,Bxc6+,Rxc6,Qc1,O-O,Qxa1,a6,Kg2,b5,Rd1,Qc7,Qb1,Rc8,a3,Rc4,Qd3,h6,Qd6,Qxd6,Rxd6,R8c6,Rd8+,Kh7,Ra8,Rd4,Ra7,Kg6,Kf3,Rd2,Ne4,Rxb2,g4,Rb3+,Kg2,Rxa3,h4,f5', 'h5+,Kh7,Nf6+,Kh8,Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/gSsN6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GsSxD', 'Blitz', 'KaspaskiChess', 2299, 'CM macp1988', 2446, 'g3,d5,Nf3,Bf5,Bg2,e6,c4,c6,O-O,Nf6,b3,Be7,Bb2,O-O,d3,h6,Nbd2,a5,a3,Nbd7,Qc2,Bh7,Rad1,Re8,Qb1,Nc5,Ne5,Qb6,Qa2,Nfd7,Nxd7,Nxd7,e4,Nc5,Bd4,Qc7,Qa1,Bf8,Qc3,Rac8,f4,Red8,b4,axb4,axb4,Na4,Qa1,dxe4,dxe4,c5,Be5,Qc6', 'b5,Qe8,Qxa4', 'https://lichess.org/training/GsSxD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GsxFY', 'Blitz', 'Surli', 2626, 'IM Ahmadzada', 2647, 'd4,Nf6,Nf3,c5,e3,g6,Be2,Bg7,O-O,O-O,h3,b6,c3,Bb7,Nbd2,d6,Nb3,Nbd7,a4,a6,Bd2,Ne4,c4,Nxd2,Qxd2,Nf6,d5,Rb8,Rad1,b5,axb5,axb5,Na5,Ne4,Nxb7,Nxd2,Nxd8,Nxf3+,gxf3,Rfxd8,cxb5,Bxb2,Rd2,Bc3,Ra2,Ra8,Rxa8,Rxa8,Rb1,Bb4,Kg2,Kf8,h4,Ke8,h5,Kd7,Rh1,Ra2,Bc4,Rc2,Bd3,Rc3,hxg6,hxg6,Be2,Rc2,Bd3,Rb2,Rh7,f5,Rg7,Be1,Rxg6,Rxf2+,Kg3', 'Rd2+,Kf4,Rxd3', 'https://lichess.org/training/GsxFY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gsyRk', 'Rapid', 'ASzilagyi', 2071, 'pratyushrathore', 2081, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,Bg5,Bxc3+,bxc3,dxc4,e4,h6,Bxf6,Qxf6,Bxc4,O-O,O-O,b6,e5,Qe7,Nd2,Bb7,a4,c5,a5,cxd4,cxd4,Nc6,axb6,axb6,Nf3,Rxa1,Qxa1,Ra8,Qb2,Qb4,Qxb4,Nxb4,Rb1,Bxf3,gxf3,Ra4', 'Bb5,Ra3,Rxb4', 'https://lichess.org/training/gsyRk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GSYSN', 'Rapid', 'Niedziol', 1738, 'realchesster', 1722, 'e4,e5,Nf3,Nc6,Nc3,d6,d4,exd4,Nxd4,Be7,Bc4,Nf6,h3,O-O,Nf5,Ne5,Bb3,Bxf5,exf5,Qd7,f4,Nc6,g4,h6,Bd2,Rfe8,Qf3,Bf8+,Be3,Nd4,Qf2,Nxb3,axb3,a6,O-O-O,Qc6,g5,hxg5,fxg5,Nh7,g6,Nf6,Bg5,Ne4,Nxe4,Rxe4,h4,Rae8,h5', 'Re2,Qxe2,Rxe2', 'https://lichess.org/training/GSYSN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GSyvQ', 'Blitz', 'CM Bierpower', 2325, 'Tranquilou', 2391, 'e4,c5,Ne2,e6,c4,g6,d4,cxd4,Nxd4,d6,Nc3,a6,Be3,Bg7,Be2,Qc7,O-O,Nd7,Qd2,b6,f3,Bb7,Rfc1,Rc8,Rab1,h6,b4,g5,a3,Ngf6,Bf1,g4,Kh1,h5,Nb3,Ne5,c5,dxc5,bxc5,b5,c6,Bxc6,Bxb5,axb5', 'Nxb5,Bxb5,Rxc7', 'https://lichess.org/training/GSyvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gt0b3', 'Rapid', 'hvictor', 2178, 'oliverK0308', 1855, 'Nf3,Nc6,c4,e5,d3,Nf6,Nc3,Bb4,Qc2,d5,Bd2,d4,Nd1,O-O,a3,Bxd2+,Nxd2,Bf5,g3,Qd7,Bg2,Bh3,O-O,Bxg2,Kxg2,Rfe8,f3,Ne7,Nf2,Nf5,Nd1,h5,Ne4,Qc6,b4,a6,h3,Rad8,Qd2,b5,Rc1,Re6,Qg5,g6,g4,Ng7,Ndf2,Rde8,Nc5,Nh7,Qh6', 'g5,Nxe6,Rxe6', 'https://lichess.org/training/Gt0b3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gt0Z1', 'Blitz', 'ajax1', 1768, 'patapon45', 1775, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,d3,Bc5,O-O,d6,h3,Be6,c3,Qd7,Bc2,Bxh3,gxh3,Qxh3,Nh2,O-O-O,Qf3,Qh4,Be3,Bxe3,Qxe3,g5,Nd2,g4,Qg3,Qh5,Bd1,Qg6,Nxg4,Rhg8,f3,h5,Kf2,hxg4,Rg1,gxf3,Nxf3,Qxg3+,Rxg3,Rxg3,Kxg3,Rg8+,Kf2,Ng4+,Ke2,Ne7,Kd2,f5,Be2,f4,Rg1,Ne3,Rxg8+,Nxg8,d4,Nh6,dxe5,dxe5,Nxe5,Nhg4,Ng6,Nc4+,Kc2,Nge3+,Kb3,a5,Nxf4,Kd7,Nd5,Kc6,Nxe3,Nxe3,e5,Kc5,e6', 'a4+,Ka3,Nc2#', 'https://lichess.org/training/gt0Z1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gT17c', 'Rapid', 'drhellios', 1658, 'Okidoki1970', 1603, 'c4,c5,Nc3,Nc6,Nf3,e6,g3,d5,cxd5,exd5,d4,Nf6,Bg2,Be6,e3,Be7,O-O,O-O,dxc5,Bxc5,a3,Rc8,b4,Bb6,Bb2,Bg4,Qd3,Bxf3,Bxf3,d4,exd4,Nxd4,Rfd1,Nxf3+,Qxf3,Qc7,Nb5,Qc2,Bxf6,gxf6,Nd6,Rc3,Qxf6,a5,Nf5', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/gT17c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gt2oE', 'Rapid', 'Hunter_vsv', 2168, 'Pablo0000', 2089, 'd4,d5,e4,dxe4,Nc3,c6,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Be3,e6,a3,Bd6,Bd3,Ngf6,Bxg6,hxg6,Qd2,Qc7,O-O-O,a5,Rde1,b5,Bg5,a4,Bxf6,Nxf6,c3,O-O,Kb1,Rfd8,Ne4,Bf4,Qe2,Nd5,Nc5,Re8,h4,Bd6,Ne4,Be7,g4,f5,gxf5,exf5,Neg5', 'Bxg5,Qxe8+,Rxe8,Rxe8+,Kf7', 'https://lichess.org/training/Gt2oE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GT4FF', 'Rapid', 'Sweeterman', 1724, 'Duchess_Of_Prawns', 1889, 'e4,e5,Nf3,d6,Bc4,h6,d3,Be7,Nc3,c6,a3,Nf6,d4,exd4,Nxd4,b5,Bd3,Qb6,Be3,Ng4,Nf5,Nxe3,Nxe3,Bg5,Qf3,O-O,h4,Bf6,Ng4,Bxg4,Qxg4,b4,axb4,Qxb4,O-O,Qxb2,e5,Bxe5,Qe4,f5,Qc4+,d5', 'Nxd5,cxd5,Qxd5+', 'https://lichess.org/training/GT4FF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gt4P7', 'Classical', 'FalconJab', 1936, 'Saigonara', 1635, 'e4,c5,Nf3,g6,c3,Bg7,d4,d6,Be2,Nc6,d5,Ne5,O-O,Qb6,h3,Nf6,Nxe5,dxe5,Nd2,O-O,Nc4,Qc7,Bd3,e6,d6,Qc6,Re1,Ne8,Bc2,b5,Ne3,Nxd6,Ng4,Bb7,Bg5,f5,Nh6+,Kh8,a4,Nxe4,Bxe4,fxe4,axb5,Qxb5,Qe2,Qc6,Ng4,Rf5,Bh6,e3,Bxg7+,Kxg7,Nxe3,Raf8,Nxf5+,Rxf5,f3,Qb6,c4,a6,Rad1,Qc7,Qd2,Rf7,Qd6,Qxd6,Rxd6,Kf6,Red1,Kf5,Rd7,Rxd7,Rxd7,Bc6,Rc7,Ba4,Rxc5,Bb3,Rc7,h5,c5,Ba4,b4,Bb5,Rf7+,Kg5,Re7,Kf6,Rc7,Kf5,Rf7+,Kg5,g3,Bc6,h4+,Kh6,Rf6,Bd5,Kf2', 'Kg7,Rxg6+,Kxg6', 'https://lichess.org/training/Gt4P7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gt51h', 'Blitz', 'as0770', 1766, 'lan15', 1946, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Bg5,dxc4,e3,O-O,Bxc4,a6,a4,Nbd7,O-O,h6,Bh4,c5,dxc5,Nxc5,b4,Qxd1,Raxd1,Ncd7,Bxf6,Nxf6,Nd5,Nxd5,Bxd5,Rb8,Rc1,Bg4,Nd4,Bxd4,exd4,b5,axb5,Rxb5,Bb7,Rxb4,Bxa6,Rxd4,h3,Bf5,Rfe1,Rd7,g4,Be6,Bc8,Rd6,Bxe6,fxe6,Rc7,Kf7,Re3,Rfd8,Ra3,R8d7,Rf3+,Kg7,Rc8,Rd8,Rc7,R6d7,Rc6,Rd6,Rc7,R8d7,Rc8,Rd2,Rcf8,Rd1+,Kg2,g5,R3f7+,Kg6,Kg3,R1d3+,f3,R3d4,h4,gxh4+,Kxh4,R4d5,f4,Rd1', 'f5+,exf5,gxf5#', 'https://lichess.org/training/gt51h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gt9Zi', 'Rapid', 'juwwealla', 1798, 'moham6265', 1898, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,Bxf7+,Kxf7,Ne5+,Ke8,Qxg4,Nf6,Qxf4,d6,Nc4,Be6,Ne3,h5,d4,Bh6,Qf2,Nxe4,Qe2,Qh4+,g3,Nxg3,Qf2,Nf5,Nxf5,Qxf2+,Kxf2,Bxf5,Bxh6,Rxh6,Nc3,Bxc2,Nd5,Na6,Rae1+,Kd7,Re7+,Kc6,Nf4,Rf8,Ke3,Nb4,a3,Nd5+,Nxd5,Kxd5,Rc1,Ba4,Rcxc7,Bc6,Rg7,Re8+,Kd3,Rhe6', 'Rg5+,Re5,dxe5', 'https://lichess.org/training/Gt9Zi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gta4S', 'Classical', 'valbuena', 1852, 'srdsosee', 1830, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Nc3,O-O,O-O,d6,h3,h6,f4,a6,Nxc6,bxc6,Be3,Bb7,e5,dxe5,fxe5,Nd5,Bxd5,cxd5,Qg4,Kh8,Ne2,c5,c3,Bc8,Qh5,Be6,Rad1,Qb6,Rf2,Rad8,Nf4,d4,cxd4,cxd4,Nxe6', 'dxe3,Nxd8,exf2+', 'https://lichess.org/training/gta4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GtaX5', 'Rapid', 'MatiGolazo', 1695, 'algodoy', 1616, 'e4,e5,Nf3,Nc6,d4,d6,c3,Be7,Nbd2,Nf6,g4,b6,h3,O-O,h4,a5,h5,Bxg4,Rg1,Bxh5,Bh3,Bg6,Ng5,Bh5,Bg4,Bg6,Qf3,exd4,Qh1,dxc3,Rg2,cxb2,Bxb2,d5,Bxf6,Bxf6,Rh2,Re8,Rxh7,Kf8,Rh8+,Ke7,Rh3,dxe4,Qh2,Bxg5,Nxe4,Bh6,Re3,f5,Nc5+,Kf6,Ne4+,fxe4,Qh4+,Ke5,Rd1,Bxe3,Qg3+,Kf6,Qxe3,Qe7', 'Qf4+,Bf5,Qxf5#', 'https://lichess.org/training/GtaX5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GtbTZ', 'Classical', 'llatra', 1708, 'arciniegas', 1703, 'e4,c5,e5,g6,Nf3,Bg7,Bb5,Nc6,O-O,Nxe5,Re1,Nxf3+,Qxf3,Nf6,Nc3,O-O,d3,Rb8,a4,b6,Bf4,d6,h3,Bb7,Qe3,e5,Bh6,Nh5,g4,Bxh6,Qxh6,Nf4,Ne4,a6,Ng5,Nxh3+,Nxh3,f6,Bc4+,d5,Bb3,Qd7,g5,Qg4+,Kh2,fxg5,Rxe5,c4,dxc4,d4,c5+,Kh8,Rg1', 'Rxf2+,Nxf2,Qf4+,Kh3,Qxe5', 'https://lichess.org/training/GtbTZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gTc4m', 'Blitz', 'IM darkghoul', 2686, 'cuervo22', 2289, 'g3,c6,Bg2,d5,Nf3,Nf6,O-O,Bg4,d3,Nbd7,Nbd2,e6,e4,dxe4,dxe4,Ne5,Qe1,Nxf3+,Nxf3,Bc5,e5,Nd5,Qe4,Bf5,Qe2,O-O,Rd1,Qb6,Nh4,Bg6,Nxg6,hxg6,c4,Ne7,g4,a5,Bg5,Rfd8,h4,Rd4', 'Rxd4,Bxd4,Bxe7', 'https://lichess.org/training/gTc4m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTdm4', 'Classical', 'VooV', 1643, 'Tahsinson', 1610, 'd4,e5,dxe5,Nc6,Nf3,d6,exd6,Bxd6,Bd2,Qf6,Bc3,Qg6,e3,Nf6,g3,O-O,Bd3,Bf5,Bxf6,gxf6,Qe2,Rfe8,Nbd2,Ne5,Nxe5,Bxe5,O-O-O,Bg4,f3,Bxf3,Nxf3,Bxb2+,Kxb2,Qh5,g4,Qa5,e4,Qb6+,Kc1,Re6,e5,Rae8,Qe4,Kf8,Qxh7,fxe5,Ng5,Rf6,Qe4,Rf4,Qh7,Qe3+,Kb1', 'Rb4+,Ka1,Qd4+,c3,Qxc3#', 'https://lichess.org/training/GTdm4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GtE55', 'Rapid', 'ZB_sec', 2355, 'chhan1983', 2155, 'c4,e5,g3,g6,Bg2,Bg7,Nc3,d6,e4,Nc6,Nge2,Be6,d3,Qd7,Nd5,Nd8,O-O,c6,Ne3,Ne7,d4,exd4,Nxd4,O-O,b3,c5,Nxe6,fxe6,Rb1,Ndc6,Bb2,Bxb2,Rxb2,Rab8,Rd2,Rbd8,f4,Nd4,Bh3,Nec6,Bg4,Qc7,h4,Rf6,h5,Qe7,Rh2,Qd7,Nd5,Rf7,hxg6,hxg6,Kg2,Rff8,Rfh1,Qg7,Ne3,Nb4,a3,Nbc6,b4,b6,b5,Na5,Rh6,Rf6,R1h4,g5,fxg5,Rxh6,gxh6,Qf6,h7+,Kh8,Qf1,Rf8,Qxf6+,Rxf6,Rh1,Rf7,Bh5,Rxh7,g4,Kg7,Rf1,Kg8,Rf6,Nab3,Bg6,Rg7,g5,Nd2,Ng4,Nxc4,Nh6+,Kh8', 'Rf8+,Rg8,Rxg8#', 'https://lichess.org/training/GtE55');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gTeav', 'Classical', 'Red_Beaver', 1974, 'sachin8211', 1756, 'e4,e6,d4,c6,Nf3,d5,Nbd2,Bb4,c3,Ba5,Bd3,Nf6,e5,Nfd7,Nf1,O-O,Ng3,f6,exf6,Qxf6,Bg5,Qf7,O-O,Bc7,Bxh7+,Kxh7,Bd8,Bxg3', 'Ng5+,Kg8,Nxf7', 'https://lichess.org/training/gTeav');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTeoW', 'Blitz', 'novak1723', 1944, 'spont', 1941, 'e4,e5,Nc3,Nc6,Nf3,Nf6,d4,Bb4,Nxe5,Nxe5,dxe5,Nxe4,Qg4,d5,Qxg7,Rf8,a3,Nxc3,axb4,Ne4,Bh6,Qe7,O-O-O,Nxf2,Bg5,Qxb4,Qf6,Bf5,Rxd5', 'Qe1+,Rd1,Qxd1#', 'https://lichess.org/training/GTeoW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GtFWH', 'Rapid', 'Ricolin', 1638, 'argoscacchi', 1639, 'd4,e6,Nf3,d5,Bf4,Nf6,e3,Bd6,Bxd6,Qxd6,c3,Nc6,Nbd2,O-O,Be2,a6,O-O,b5,b4,Bb7,a3,Qd8,h3,Ne7,Ne5,h6,Ndf3,Nh7,Bd3,f6,Bxh7+,Kxh7,Qd3+,f5,Nh2,Qe8,f4,Ng6,Nxg6,Qxg6,Kh1,Kg8,Nf3,Qf6,Ne5,Bc8,Rg1,Rd8,Raf1,Bb7,Qe2,Qh4,Kh2,Bc8,g3,Qf6,g4,fxg4,Qxg4,Rf8,Rg3,Kh7,Qg6+,Qxg6,Rxg6,Rg8,Rfg1,Bb7,h4,Raf8,Nd7,Rf7,Ne5,Re7,h5,c6,Rf1,Bc8,Nxc6,Rc7,Ne5,Rxc3,Rfg1,Rc2+,Kh3,Rc3,R1g3,Rc1,Nf7,e5+,Kh2,Rc2+,Kg1,Bf5,Nxe5,Bxg6', 'hxg6+,Kh8,Nf7#', 'https://lichess.org/training/GtFWH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gtgOJ', 'Classical', 'Majedalok1967', 1853, 'NezRond', 1912, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,Ng5,O-O,f4,Nxe4,Nxe4,d5,Bb3,dxe4,fxe5,Qd4+,Kh1,Qxe5,Qe1,Bd6,g3,b6,d3,Bb7,dxe4,Bxe4+,Kg1,Nd7,Nc3,Bc5+,Be3,Bxe3+,Qxe3,Rfe8,Bxf7+,Kh8,Bxe8,Rxe8,Nxe4,Nc5,Rae1,h6,Rf4,Qxb2,Qc3', 'Qxc3,Nxc3,Rxe1+', 'https://lichess.org/training/gtgOJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GtgPi', 'Rapid', 'Gahrmann', 2169, 'jjww', 2158, 'd4,d5,Nf3,e6,Bf4,Nf6,e3,Be7,Bd3,O-O,O-O,h6,c4,dxc4,Bxc4,c5,Nc3,cxd4,Nxd4,Bd6,Bxd6,Qxd6,Qb3,b6,Rfd1,Qe5,Nf3,Qh5,Be2,Bb7,Rd2,Ng4,h3,Nf6,Rad1,Nc6,Nd4,Qg6,Nxc6,Bxc6,Bf1,Nh7,Rd6,Rac8,Ne2,Ng5,Nf4,Qf5,Qd3,Ne4,g4,Qc5,Rd4,Ng5,Bg2,Bxg2,Kxg2,e5,Rc4', 'Qxc4,Qxc4,Rxc4', 'https://lichess.org/training/GtgPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gtgvo', 'Blitz', 'S_patilla', 1753, 'Aniljha_1978', 1706, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nc3,e5,Be2,Bc5,Bf3,O-O,Nge2,Bg4,O-O,Bxf3,gxf3,Nd4,Ng3,Re8,Nce4,Nxe4,Nxe4,Be7,d3,f5,Ng3,f4,Ne4,Bh4,b3,Re6,Bb2,Rg6+,Kh1,Qd7,Rg1,Rxg1+,Kxg1,Qh3,Qf1', 'Nxf3+,Kh1,Qxh2#', 'https://lichess.org/training/Gtgvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GThBh', 'Blitz', 'Mordrag7', 1882, 'Erick_M-B', 1850, 'e4,e5,Bc4,Nc6,Nf3,Nf6,O-O,Be7,Nc3,d6,h3,O-O,Re1,Re8,Bf1,Bf8,d4,h6,d5,Ne7,a4,Ng6,b4,Nh5,Ne2,Qf6,c4,Nhf4,Nxf4,Nxf4,Ra3,g5,Nh2,Qg6,Rg3,f5,Bd3,Nxd3,Qxd3,f4,Rf3,h5,g4,fxg3,Rxg3,Bh6,Nf3,g4,Nh4,Qf6,Bxh6,Qxh6,hxg4,hxg4,Nf5,Bxf5,exf5,Re7,Rxg4+,Kf8,Kf1,Rh7,Ke2,Qh5,Rg1,Ke7,Ke1,Rf8,c5,Qxf5,cxd6+,Kxd6,Rg6+,Kd7,Qb5+,Kc8,Qe2,Qb1+,Qd1,Qxb4+,Qd2,Qe4+,Qe2,Qxd5,Qg4+,Qd7,Rg8,Rd8', 'Rxd8+,Kxd8,Qg8+,Qe8,Qxh7', 'https://lichess.org/training/GThBh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GThH4', 'Classical', 'dtoledo', 1854, 'osimar', 1820, 'd4,e6,c4,Nf6,Nf3,d5,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Bg5,h6,Bh4,c6,e3,Nbd7,cxd5,cxd5,Bd3,Qa5,Qc2,b6,Ne5,Ba6,Nxd7,Bxd3', 'Nxf6+,gxf6,Qxd3', 'https://lichess.org/training/GThH4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gthNv', 'Rapid', 'BallBas', 1789, 'mvzoviedo', 1807, 'd4,d5,Bg5,h6,Bh4,Bf5,e3,c6,Bd3,Qd7,Nf3,Bg4,h3,Bh5,Be2,Bg6,Ne5,Qf5,Bd3,Qh5,Nxg6,fxg6,Qxh5,gxh5,Bg6+,Kd8,Bxh5,Nf6,Bxf6,gxf6,Nd2,Rg8,g4,Nd7,O-O-O,e5,dxe5,fxe5,f4,e4,Nb3,Be7,Nd4,Nc5,Nf5,Bf8,a3,Rc8,Ng3,Rc7,Rd4,Ne6,Rd2,Bc5,Re1,a5,Nxe4,Ke7,Ng3,Kf6,e4,d4,e5+,Ke7,Nf5+,Kd8,Nxh6,Rh8,Nf7+,Rxf7,Bxf7,Nxf4,e6,Ke7,c3,d3,Re4,Rxh3,Kb1,Bd6,Rf2,Rh1+,Ka2,Rg1,Rd4,Rxg4,c4,c5,Re4,Rh4,Rd2,Rh3,Kb3,Rf3,Ka4,b6,Kb5,Ne2,Rexe2,dxe2,Rxe2,Rb3+,Kc6,Rd3,Rg2,Rd4,Rg8,Rxc4', 'Re8+,Kf6,Kxd6', 'https://lichess.org/training/gthNv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gtHQD', 'Blitz', 'oblakoX', 2364, 'basin', 2270, 'e4,c5,d4,cxd4,Nf3,Nf6,e5,Nd5,c3,e6,Bc4,Nb6,Bb3,d6,cxd4,dxe5,Nxe5,N8d7,Qe2,Be7,Nxf7,Kxf7', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/gtHQD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gthus', 'Rapid', 'zashem', 1830, 'pula89', 1731, 'd4,d5,Bf4,Nf6,e3,Nc6,h3,h6,Nf3,g5,Bg3,Ne4,Bh2,Bg7,Nbd2,Bf5,g4,Bg6,Ne5,Nxe5,dxe5,c5,c3,Nxd2,Bb5+,Kf8,Qxd2,Be4,Rg1,Qa5,Be2,Rd8,f3,Bg6,f4,gxf4,exf4,d4,O-O-O,Qxa2,f5,Bh7,Bd3,e6,Bb1,Qa1,Rgf1,Ke7,Qf4,f6,Rfe1,dxc3,exf6+,Bxf6,Qc7+,Kf8,Rxd8+,Bxd8,Qxd8+,Kg7,Be5+,Kf7,Qxh8', 'Qxb2+,Kd1,Qd2#', 'https://lichess.org/training/Gthus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gTIVE', 'Classical', 'rudraksh10', 1821, 'heisenberg2020', 1644, 'd4,Nf6,Nf3,g6,Bf4,Bg7,Nc3,O-O,e3,d6,Ne2,Bg4,h3,Bd7,Qd2,c6,g4,Ne4,Qd3,d5,O-O-O,f5,Bg3,fxg4,hxg4,Rxf3,Bg2,Rxg3,Bxe4,dxe4,Qc4+,Kh8,Nxg3,Bxg4', 'Rxh7+,Kxh7,Rh1+', 'https://lichess.org/training/gTIVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gTJm9', 'Blitz', 'Icariacap', 1632, 'Shreyder93', 1648, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,Nf6,d5,Ne5,Be2,Nfd7,O-O,e6,dxe6,fxe6,Nc3,Be7,Bf4,Nxf3+,Bxf3,Nb6,Rc1,O-O,Re1,Rxf4,Nb5,a6,Nc7,Rb8,Qb3,Na8,Nxe6,Bxe6,Qxe6+,Kh8,e5,dxe5,Bxb7,Rxb7,Rc8,Rb8,Rxd8+,Bxd8', 'Qe8+,Rf8,Qxf8#', 'https://lichess.org/training/gTJm9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTLeg', 'Rapid', 'borste', 1786, 'Gustavosnb', 1696, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,a6,Bxc6+,bxc6,Be3,e5,Qc4,Bb7,Nc3,h6,Rd1,Be7', 'Nxe5,dxe5,Rxd8+', 'https://lichess.org/training/GTLeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gTOb1', 'Classical', 'Motsa-Sandile', 1752, 'Moses2009', 1752, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bd6,Nbd2,Nf6,Nc4,Qe7,Nxd6+,cxd6,Bg5,h6,Bh4,g5,Bg3,Bg4,h3,Bh5,O-O,O-O-O,d4,exd4,Qxd4,Bxf3,gxf3,h5,Qa7,g4,fxg4,hxg4,h4,Nxe4,Rfe1,d5,Qb8+,Kd7,Qc7+,Ke8,Qxe7+,Kxe7,c4,b5,cxd5,cxd5,Bf4,Rxh4,Bg5+,f6,Bxh4,Rh8,Bg3,Kf7,Bc7,Rh3,Rad1,Rf3,Rxd5,Nxf2,Rd7+,Kg6,Kh2,Nd3,Rg1,Rh3+,Kg2,Nxb2,Kf1,Rf3+,Ke2,f5,Rd6+,Kg5,Rxa6,Nc4,Bd8+,Kf4,Bc7+,Ke4,Re6+,Kd5,Rh6,Re3+,Kd1,Rd3+,Kc2,Rd2+,Kb3', 'Rb2+,Kc3,b4+,Kd3,Rd2#', 'https://lichess.org/training/gTOb1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gtOfX', 'Blitz', 'Hans42', 1508, 'njasper', 1509, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Be2,O-O,h4,Nc6,h5,e5,dxe5,dxe5,hxg6,Qxd1+,Rxd1,exf4,gxf7+,Kxf7,Bc4+,Ke7,Nf3,Be6,Bxe6,Kxe6,Ng5+,Ke7,Nxh7,Nxh7,Rxh7,Rg8,Nd5+,Kf7,Nxf4,Rad8,Rxd8,Rxd8,e5,Nxe5', 'Rxg7+,Kxg7,Ne6+,Kf6,Nxd8', 'https://lichess.org/training/gtOfX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gtoh4', 'Blitz', 'MGGM1200', 1735, 'Orlando080', 1703, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,Qe7,Qxe4,d6,d4,dxe5,Qxe5,Nc6,Qxe7+,Bxe7,Be3,Bf5,c4,Nb4,Na3,O-O,Be2,Nd3+,Bxd3,Bxd3,O-O-O,Bxa3,bxa3,Bxc4,Kb2,Rfd8,Rc1,Bd5,Rhg1,c6,g4,b5,h4,h6,g5,h5,g6,fxg6,Rxg6,Rd7,Rcg1,a5,Bh6,Raa7,Bf4,Rf7,Be3,a4,R6g5,Bf3,R1g3,Rab7,Rc5,b4,axb4,Rxb4+,Ka3,Rb1,Kxa4,Ra7+,Ra5', 'Bd1+,Ka3,Rxa5#', 'https://lichess.org/training/gtoh4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gToH6', 'Rapid', 'dymka', 1676, 'boris_riga', 1744, 'd4,d5,e3,e6,g3,c5,dxc5,Bxc5,c3,a6,Bg2,b5,b4,Bb6,Nf3,Qc7,Bb2,Bb7,c4,f6,cxd5,Bxd5,Nc3,Bc6,O-O,Ne7,a4,Nd7,axb5,Bb7,bxa6,Rxa6,Rxa6,Bxa6,b5,Bb7,Nd4,Bxd4,Bxb7,Qxb7,Qxd4,O-O,Ba3,Re8,Bxe7,Rxe7,Qd6,Ne5,Qd8+,Kf7,b6,Nf3+,Kh1,Nd2+,Kg1,Nxf1,Kxf1,Rd7,Qh8,Qh1+,Ke2,Qxh2,Qc8,Qh5+,Ke1,Qh1+,Ke2,Qb7,Qc5,Qa6+,Nb5,Qa2+,Kf3,Qd5+,Qxd5,exd5', 'b7,Rxb7,Nd6+,Ke6,Nxb7', 'https://lichess.org/training/gToH6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GToOh', 'Rapid', 'HemingwayShotgun', 1726, 'GAMTEDO', 1723, 'e4,e6,d4,Be7,Qf3,d6,Nc3,Nf6,Bd2,O-O,O-O-O,Nbd7,Bg5,c6,e5,Nd5,Bxe7,Nxe7,exd6,Ng6,Bd3,Nb6,Ne4,f5,Nc5,Qxd6,Re1,Qxd4,Nxe6,Qf6,Nxf8,Nxf8,Re8,Be6,Rxa8,Nxa8,Ne2,Nc7,Nf4,Bf7,b3', 'Qa1+,Kd2,Qxh1', 'https://lichess.org/training/GToOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GtOqE', 'Rapid', 'CADDEB', 1749, 'DEBA1968', 1753, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,d5,Bb5,Nd7,Bxc6,bxc6,Nxd4,Bc5,Nxc6,Qh4,O-O,O-O,Qxd5,Ba6,g3,Qh3,Re1,Rad8,Qg2', 'Qxg2+,Kxg2,Bb7', 'https://lichess.org/training/GtOqE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gtpqq', 'Classical', 'rks_chess', 1662, 'Lovefield', 1727, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,d5,exd5,exd5,Be2,Nf6,d4,c4,O-O,Bd6,Be3,O-O,Nbd2,Re8,Re1,Ng4,Bf1,Nxe3,fxe3,Re6,e4,dxe4,Nxe4,Rh6,Nxd6,Rxd6,Bxc4,Bg4,Qd3,Qf6,Ne5,Nxe5,Rxe5,Rad8,Rae1,Be6,Bxe6,fxe6,Qh3,Rf8,Rxe6', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/Gtpqq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTptO', 'Blitz', 'FM Wilver92', 2474, 'Henry940622', 2318, 'e4,c5,Nc3,Nf6,g3,d6,Bg2,h5,h4,Bg4,Nge2,Nc6,f3,Be6,d3,g6,O-O,Bg7,Be3,Qc8,Kh2,Ne5,Qd2,a6,Rab1,b5,Nf4,Bd7,Ncd5,Rb8,Nxf6+,Bxf6,Nd5,Bg7,c3,e6,Nf4,c4,d4,Nc6,d5,exd5,Nxd5,Ne5,Bd4,Be6,f4,Ng4+,Kh1,Kf8,Bxg7+,Kxg7,Qd4+,Kh7,f5,Bxd5,Qxd5,Qb7', 'fxg6+,fxg6,Rf7+,Qxf7,Qxf7+', 'https://lichess.org/training/GTptO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTQ7I', 'Rapid', 'Williken', 1629, 'visiALBANIA', 1640, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Nf6,Bg5,Be7,Nc3,c6,Nf3,b5,Be2,Nd5,Bxe7,Nxc3,Bxd8,Nxd1,Bxd1,Kxd8,Ne5,Ke7,Rc1,Bb7,O-O,Rd8,Nf3,c5,dxc5,Bxe4,Be2,a6,Ne5,Nc6,Nxc6+,Bxc6,Rfd1,Rxd1+,Rxd1,f5,b4,Kf6,Rd6,Rc8,h3,Ke5,Rd2,Bd5,a3,g5,Bh5,h6,g3,Rg8,Rc2,g4,hxg4,fxg4,Re2+,Kd4,Bf7,Kd3', 'Re3+,Kd4,Bxg8', 'https://lichess.org/training/GTQ7I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTqxi', 'Rapid', 'Losea', 1697, 'KruzKorvin', 1683, 'e4,e5,Nf3,Bc5,Bc4,d6,h3,Nf6,d3,Be6,Bb3,Nc6,c3,a6,Bc2,d5,exd5,Bxd5,O-O,Qd6,Bg5,O-O-O,Nbd2,h6,Bxf6,Qxf6,Re1,g5,Bb3,h5,Bxd5,Rxd5,Ne4,Qe7,Nexg5,f6,Ne4,Ba7,c4,Rd7,h4,Rg8,a3,Nd4,Nxd4,Rxd4,Qf3,Rg6,Rad1,Qg7,g3,Rd8,Qxh5,Rg8,Kg2,Qf7,Qf5+,Kb8,h5,Rh6,Rh1,Rf8,b4,Qe7,c5,b6,Rb1,b5,Qf3,f5,Nd2,f4,Ne4,fxg3,Qxg3,Qe6,Kf1,Rf4,Qg5,Rh8,h6,Rg8,Qh5,Rf7,Rg1,Rh8,Rg7', 'Rxg7,hxg7,Rxh5', 'https://lichess.org/training/GTqxi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTRBG', 'Rapid', 'Rickon', 1692, 'wcittb', 1677, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,e4,O-O,Bd3,Nbd7,O-O,e5,dxe5,dxe5,b3,Nc5,Bc2,Bd7,Bb2,a5,Nd5,Nxd5,exd5,Re8,Re1,Bg4,Qd2,Bxf3,gxf3,c6,Re2,cxd5,cxd5,e4,Bxg7,Kxg7,Qd4+,Kg8,Qxc5', 'Qg5+,Kf1,exf3,Rxe8+,Rxe8', 'https://lichess.org/training/GTRBG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gTRJ5', 'Rapid', 'zjarrr', 1924, 'undark', 1869, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,Qc7,Be3,e6,g4,h6,Qd2,Be7,h4,Ng8,Be2,b5,O-O-O,Bb7,Rhg1,Nd7,g5,hxg5,hxg5,e5,Nf5,Bf8,Nxd6+,Bxd6,Qxd6,Qxd6,Rxd6,Rh2,Kd1,Ke7,Rd2,g6,Nd5+,Bxd5,exd5,Kd6,f4,Ne7,fxe5+,Nxe5,Bf4,Rh4,Bxe5+,Kxe5,d6,Nf5,d7,Rd8,Ke1,Ne3,c3,Ke6,Bf3,Rxd7,Re2,Rd1+,Kf2,Rh2+,Kxe3', 'Rxe2+,Kxe2,Rxg1', 'https://lichess.org/training/gTRJ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gttMN', 'Blitz', 'Mettigel', 2466, 'ROCK_STAAR', 2464, 'e4,c5,d4,cxd4,c3,d5,exd5,Qxd5,cxd4,e5,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,exd4,Qxd4,Qxd4,Nxd4,Nf6,Nb5,O-O,Nc7,Bg4,f3,Nc6,Nxa8,Nd4,Na3,Rxa8,Kf2,Be6,Bd3,g6,Rhd1,Nc6,Nc2,Nd5,a3,Rc8,Rac1,Nf4,g3,Nxd3+,Rxd3,Ne5,Rc3', 'Rxc3,bxc3,Nd3+,Ke3,Nxc1', 'https://lichess.org/training/gttMN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gTuSr', 'Rapid', 'ozkchess', 2030, 'bokis2', 2087, 'Nf3,Nf6,g3,d5,Bg2,c5,O-O,Nc6,d3,e5,Bg5,Be7,Nbd2,O-O,e4,d4,c3,h6,Bxf6,Bxf6,cxd4,cxd4,Nc4,b5,Na3,a6,Nc2,a5,a4,b4,Nfe1,g5,f4,gxf4,gxf4,exf4,Rxf4,Be5,Rf3,Qh4,h3,Kh8,Qd2,Rg8,Qf2,Qh5,Kh1,Bg4,Rc1,Bxf3,Nxf3,Bf4,Rd1,Rg3,Ncxd4,Rxh3+,Bxh3,Qxh3+,Nh2,Be3,Qf6+,Kh7,Qxf7+,Kh8,Qf6+,Kh7,Qxc6,Rg8,Qe6', 'Qg2#', 'https://lichess.org/training/gTuSr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTvm1', 'Rapid', 'nischebrod', 1949, 'RodionGorbunov19', 1929, 'e4,e6,d4,d5,Bd3,Nc6,c3,Nf6,e5,Ne4,f3', 'Qh4+,g3,Nxg3', 'https://lichess.org/training/GTvm1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTW22', 'Rapid', 'Shu_hu', 1976, 'Adithya98', 1788, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Bd6,Nxc3,Ne7,Nge2,O-O,O-O,Nbc6,h3,Ng6,f4,Kh8,Be3,f5,e5,Be7,Rc1,Na5,Bd3,b6,a3,Bb7,b4,Nc6,Qc2,Bxb4,axb4,Nxb4,Qb1,Nxd3,Qxd3,Nh4,Rf2,a5,Nd4,Be4,Nxe4,fxe4,Qxe4,a4,f5,a3,e6,dxe6,Nxe6,a2,Bd4,Qe7,Rxc7,a1=Q+,Bxa1,Rxa1+,Kh2,Qd6+,g3,Qd1,gxh4', 'Qg1#', 'https://lichess.org/training/GTW22');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTwgC', 'Blitz', 'peteentry', 2066, 'Zu_Chen_Li', 2110, 'e4,c5,Nf3,e6,Nc3,Nc6,d4,cxd4,Nxd4,Nf6,Be2,d5,Bg5,Qb6,Bxf6,gxf6,Nxc6,bxc6,Na4,Qb4+,c3,Qxe4,O-O,Bd6,Bf3,Qh4,g3,Rg8,Kh1,Qh6,c4,Bd7,Re1,Kf8,c5,Bc7,Qc2,Rg5,h4,Bxg3,fxg3,Rxg3,Bg2,Qxh4+,Kg1,Ke7,Re2,Qd4+,Kh2,Rag8,Rd1,Qf4,Kg1,R8g5,Nc3,Qh4,Rd3,Rxg2+,Rxg2,Qe1+,Kh2,Qe5+,Rdg3', 'Rh5+,Kg1,Qe1#', 'https://lichess.org/training/GTwgC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTWmB', 'Classical', 'diarrheaslurpers', 1860, 'ChrFlo', 1670, 'd4,d5,Bf4,a6,e3,e6,Bd3,h6,Nf3,c5,c3,c4,Be2,b5,b3,Bb7,bxc4,dxc4,a4,Bd6,Bxd6,Qxd6,axb5,axb5,Nbd2,Nf6,O-O,O-O,Ne5,Nc6,f4,Qd5,Bf3,Qd6,Qb1,Rxa1,Qxa1,Nd7,Ne4,Qc7,Qb2,Ncxe5,fxe5,Rb8,Nd6,Bxf3,Rxf3,f6,Ne4,f5,Nd2,Qa5,Rf1,Nb6,e4,Rf8,exf5,Rxf5,Nf3,Nd5,Rc1,Nf4,Ne1,Qa3,Qxa3', 'Ne2+,Kh1,Rf1#', 'https://lichess.org/training/GTWmB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GTWps', 'Rapid', 'Atif_A_Tonmoy', 1727, 'Ivan1812', 1697, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Nc3,c5,Be3,cxd4,Bxd4,Nc6,Bb5,a6,Ba4,b5,Bxb5,axb5,Nxb5,Nxd4,Nbxd4,Bg6,O-O,Nh6,a4,Bc5,Qd2,O-O,b4,Bxd4,Nxd4,Nf5,Nc6,Qb6,b5,Kh8,Rfb1,Rfc8,a5,Qc5,a6,Rxc6,bxc6,Qxc6,Qb4,h6,h3,Qxc2,Qb7,Rg8,a7,Nh4,a8=Q,Rxa8,Qxa8+,Kh7,Qa2', 'Qxa2,Rxa2,Bxb1', 'https://lichess.org/training/GTWps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gTxwd', 'Rapid', 'k777ht', 1667, 'Hawk97', 1671, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,Nc6,Bb5,Bg4,h3,Bh5,g4,Bg6,Ne5,Qb6,Qe2,O-O-O,Na4,Qc7,Nxc6,bxc6,Ba6+,Kd7,Nc5+,Ke8,Bd2,Bxc2,Nb7,Rb8,Ba5,Qf4,Qxc2,e6,Qxc6+,Nd7,O-O,f5,Rae1,Be7,Rxe6,fxg4,Nd6+,Kf8,Qxd7,Qg5,Bc7', 'gxh3+,Kh1,Qg2#', 'https://lichess.org/training/gTxwd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gTYfm', 'Rapid', 'Jordisimo', 1707, 'dannyappleseed', 1757, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,Nc6,Be3,Bd7,Bb3,Rb8,O-O,Na5,Nd5,Nxb3,Nxf6+,exf6,Nxb3,Bb5,Re1,Be7,Nd4,Bd7,Nf5,Bxf5,exf5,O-O,Qg4,g5,h4,h6,hxg5,fxg5,Qh3,Kh7,g3,Bf6,Kg2,Qc7,Rh1,Bg7,Bd4,f6,Qh5,Qc6+,Kg1,Qe8,Kg2,Qxh5,Rxh5,Rbc8,c3,b5,Rah1,Rce8,f4,Re2+,Kf3,Rxb2,fxg5,fxg5,Bxg7,Kxg7,Rxh6,Rxf5+,Kg4,Rd5,Rh7+,Kf6', 'R1h6+,Ke5,Re7#', 'https://lichess.org/training/gTYfm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gU1Gv', 'Blitz', 'cagaX', 1697, 'og-bruno', 1726, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,d5,exd5,exd5,Bb5,Qa5+,Nc3,Bd7,Bd2,d4,Bxc6,Bxc6,Ne4,Qb6,b3,Be7,O-O,Nf6,Re1,O-O,Nxf6+,Bxf6,Ne5,Bxe5,Rxe5,Rfe8,Qe2,Rxe5,Qxe5,Re8,Qg3,Kf8,Qd6+,Kg8,Re1,Rxe1+,Bxe1,h6,Bd2,a5,Qg3,Kh8,Qd6,a4,Qf8+,Kh7,Qxf7,axb3,axb3,Bb5,h3,Qc6,Bf4,b6,Be5,Qg6,Qb7', 'Bc6,Qxg7+,Qxg7,Bxg7,Kxg7', 'https://lichess.org/training/gU1Gv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gu4BL', 'Classical', 'verbalchess', 1865, 'Suppenkraut', 1970, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,Bb5,Bd6,O-O,Ne7,Nc3,Be6,Be3,Qd7,a4,a6,Bxc6,bxc6,Qd2,O-O,Bf4,Rfb8,Bxd6,Qxd6,b3,Bg4,Ne5,Bh5,Rfe1,Bg6,Ne2,f6,Nxg6,Nxg6,Ng3,Qd7,Re2,Re8,Rxe8+,Rxe8,Qd3,Qc8,c4,Nf4,Qf3,Ne6,cxd5,Nxd4,Qd3,c5,Qc4,Kh8,Qxc5', 'Nxb3,Qc3,Nxa1', 'https://lichess.org/training/Gu4BL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gu6X9', 'Blitz', 'Workoutbobby', 2462, 'FM Patetico', 2481, 'Nf3,Nf6,g3,e5,Bg2,e4,Nd4,c5,Nb3,c4,Nd4,Nc6,c3,Bc5,Nxc6,dxc6,b3,h5,h4,Ng4,O-O,g5,d4,cxd3,Bxg5,f6,Bf4,Qb6,exd3,Nxf2,Qe2,Bg4,Qd2,Nxd3+,Kh2,O-O-O,Bxe4,Nf2,Qc2,Nxe4,Qxe4,Rhe8,Qc4,Re2+,Kh1,Bf3+,Rxf3', 'Rd1+,Rf1,Rxf1#', 'https://lichess.org/training/Gu6X9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gu8fv', 'Blitz', 'IM MilovanR', 2522, 'Recobachess', 2448, 'd4,d6,Nf3,Nf6,Nc3,Nbd7,Bf4,h6,Qd2,b6,O-O-O,Bb7,d5,e5,dxe6,fxe6,e4,e5,Bg3,Nc5,Bb5+,c6,Bd3,Qc7,Kb1,O-O-O,Rhe1,Nxd3,Qxd3,Nh5,Nh4,Nxg3,hxg3,Qf7,f3,Kb8,a4,g6,a5,Be7,a6,Bc8,Rh1,Be6,b3,Kc7,Kb2,Rhf8,Ra1,Rd7,Rad1,Rfd8,Rd2,Kb8,Rhd1,d5,exd5,cxd5,Qxg6,d4,Qxf7,Bxf7,Ne4,Bb4,Rd3,Bd5,Nf5,Bxe4,fxe4,Bc3+,Kb1,Rc7,Ne7,Rxe7,Rxc3,Rg8,Rc6,Rxg3,Rxh6,Rxg2,Rh8+,Kc7,Ra8,Kc6,Rb8,Rc7,Rf1,Kb5,Rc1,Kxa6,Re8,Rc5,Rd8,Kb5,Rd7,a5,Re7,Kb4,Re6,b5,Rd6,a4,bxa4,bxa4,Rb6+,Ka3,Rb2,Rc4', 'Ra2+,Kb4,c3+,Kb3,Rxg2', 'https://lichess.org/training/Gu8fv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GuA92', 'Blitz', 'Agus-Bonex', 2060, 'petrosianuro', 2117, 'e4,e5,d4,exd4,c3,d3,Bxd3,Nf6,e5,Nd5,Be4,Nb6,f4,Nc6,Nf3,Bc5,Qe2,O-O,Be3,Bxe3,Qxe3,d5,Bc2,Nc4,Qd3,g6,b3,Bf5,Qe2,Bxc2,Qxc2,Ne3,Qe2,d4,cxd4', 'Nxd4,Qxe3,Nc2+,Ke2,Nxe3', 'https://lichess.org/training/GuA92');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GuaNY', 'Blitz', 'Chaz36', 1546, 'vforven', 1571, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Bg3,h6,Bd3,Bd7,Nbd2,a6,Ne5,Nc6,c3,Qe7,Ndf3,O-O-O,Nxc6,Bxc6,Bxd6,Qxd6,Ne5,Qe7,Nxc6,bxc6,Bxa6+,Kd7,O-O,g5,h3,h5,Bd3,h4,Qe2,Rdg8,e4,g4,hxg4,Nxg4,exd5,cxd5,f3,Nf6,Qc2,Ra8,Qb3,Rhb8,Qc2,Qd6,c4,h3,g4,Qg3+,Kh1,Rb7,Qf2,Qf4,c5,Rab8,b3,Rb4,Rac1,Rxd4,c6+,Kd6,Qc2,Qe3,Qc5+,Ke5,Rce1,Qxe1,Rxe1+,Ne4,fxe4,Rxd3,Rf1,Rg8,Qe7,Rxg4,Qf6+,Kd6,Qxf7,Rg2,Qf8+,Ke5,Qh8+,Kd6,Qf8+,Ke5,Qh8+,Kd6,Qd8+,Kc5,Rc1+,Kd4,Qh8+,e5,Qh7,Rdd2,exd5', 'Rh2+,Kg1,Rdg2+,Kf1,Rh1#', 'https://lichess.org/training/GuaNY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('guCMV', 'Blitz', 'hrvoje_strasni', 2009, 'FM renanreis', 2205, 'e4,e6,d4,d5,Nc3,Nf6,Be3,Nxe4,Nxe4,dxe4,f3,exf3,Nxf3,Nc6,c3,Bd6,Bd3,O-O,Bxh7+,Kxh7,Ng5+,Kg6,h4,Bg3+,Kd2,f5,Qf3,f4,h5+,Kxg5,Qxg3+,Kh6', 'Qg6#', 'https://lichess.org/training/guCMV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GUCtn', 'Classical', 'KnightB4Storm', 1633, 'Nicolas8', 1622, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,h6,Nc3,f5,O-O,fxe4,dxe4,Nf6,Re1,Bd7,Nd5,Bg4,h3,Bh5,g4,Bg6,Qe2,Qd7,Bd3,Nxg4,hxg4,Qxg4+,Kh2,Bh5,Nxc7+,Kd8,Nxa8,Nd4,Rg1', 'Nxf3+,Qxf3,Qxf3', 'https://lichess.org/training/GUCtn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gUd90', 'Rapid', 'Gritto', 2046, 'NithishB', 1747, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,c3,O-O,d4,Bd6,d5,Ne7,Bc2,Bb7,Bg5,Ng6,Nh4,c6,Nxg6,fxg6,Bb3,c5,Nd2,c4,Bc2,Qb6,Kh1,a5,Qe2,a4,a3,Be7,f4,d6,fxe5,dxe5,Rad1,Nxd5,exd5,Bxg5,Nf3,Bf6,Be4,Qd6,Nd2,Bxd5,Bxd5+,Qxd5,Ne4,Qe6,Rd6,Qe7,Rfd1,Rad8,Nxf6+,gxf6,Qd2,Rb8,Rd7,Qe6', 'Qh6,Rf7,Rd8+,Qe8,Rxe8+', 'https://lichess.org/training/gUd90');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GudLP', 'Blitz', 'CM Davigator', 2349, 'Ngazio2000', 2516, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qa5,O-O-O,Bd7,g4,Nc6,Nb3,Qc7,h4,b5,Bd3,b4,Ne2,a5,Bxf6,Bxf6,g5,a4,gxf6,axb3,fxg7,Rg8,axb3,Ra2,Rhg1,Na5,Kd2,Rxb2,Ke1,Rxc2,Bxc2,Qxc2,Nd4,Qh2,Rg2,Qxh4+,Qg3,Qf6,e5,dxe5,fxe5,Qh6,Nc2,Bc6,Rg1,Bd5,Nxb4,Rxg7,Qf2', 'Rxg1+,Qxg1,Qh4+', 'https://lichess.org/training/GudLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GUE2a', 'Rapid', 'Gegonz', 1736, 'smerk83', 1745, 'd4,d5,Bf4,Nf6,Nf3,Bg4,e3,Nc6,c3,a6,Nbd2,e6,Bd3,Bd6,O-O,Bxf4,exf4,Qd6,g3,O-O,Qc2,Bh3,Rfe1,h6,Ne5,Ng4,Ndf3,Ncxe5,Nxe5,Nxe5,fxe5,Qe7,Bf1,Bf5,Bd3,Bh3,Bf1,Bxf1,Kxf1,c5,f4,Rac8,Qe2,cxd4,cxd4,Qb4,Red1,Rc4,a3,Qa4,Qe3,Rfc8', 'b3,Qc6,bxc4', 'https://lichess.org/training/GUE2a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GuGYB', 'Rapid', 'indhira2000', 1797, 'shtein', 1824, 'e4,e5,d4,exd4,c3,Nf6,Bc4,d5,exd5,Nxd5,Ne2,Bg4,O-O,Be7,Qxd4,Nf6,Qf4,O-O,Be3,Nc6,Nd2,Na5,Bb3,Bxe2,Rfe1,Nxb3,axb3,Bb5,Bd4,Bc6,Rad1,Bd6,Qg5,Kh8,Ne4,Bxe4,Rxe4,Rg8,Rh4,c5,Be5,Ne8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/GuGYB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GuHvo', 'Rapid', 'Dhomanvauan', 1708, 'CR7_Amir', 1983, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bg5,e6,Nf3,h6,Bh4,Be7,Bc4,a6,O-O,b5,Bb3,Nc6,Ne5,Nxe5,dxe5,Qxd1,Raxd1,Nd7,Bxe7,Kxe7,f4,Bb7,Rd3,Rad8,f5,Nxe5,Rxd8,Rxd8,fxe6,f6,Rd1,Rxd1+,Nxd1,a5,a4,b4,Ne3,c5', 'Nf5+,Kf8,e7+,Ke8,Nd6+,Kxe7,Nxb7', 'https://lichess.org/training/GuHvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gUIDW', 'Rapid', 'Chestermen', 2013, 'canbasarir2013', 2000, 'd4,Nf6,Bf4,d5,e3,c6,Bd3,e6,Nf3,Bd6,Ne5,O-O,Nd2,Bxe5,Bxe5,Nbd7,Bd6,Re8,O-O,Nb6,Bg3,e5,dxe5,Ng4,Nf3,Be6,h3,Nh6,c3,Nf5,Bh2,Nh4,Bg3,Nxf3+,Qxf3,Qg5,Bf4,Qe7,Qh5,g6,Bg5', 'gxh5,Bxe7,Rxe7', 'https://lichess.org/training/gUIDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gUjcE', 'Rapid', 'Kappablanket', 2281, 'budur', 1786, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Bc5,e5,d5,exf6,dxc4,Qe2+,Be6,fxg7,Rg8,Bg5,Qd7,Nbd2,b5,O-O,Nc6,a4,Ne7,Ne5,Qd5,Ne4,O-O-O,Nf6,Qd6,Nxg8,Rxg8,Bxe7,Qxe7,Qe4,c6,Nxc6,Qb7,Ne7+,Qxe7', 'Qa8+,Kc7,Qxg8', 'https://lichess.org/training/gUjcE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GUKCL', 'Blitz', 'jgviray', 1618, 'Phitxela1', 1609, 'd4,d5,b3,h6,Bb2,Nf6,Nc3,a6,e3,e6,Qd2,b5,O-O-O,Bb7,f3,Be7,Bd3,Nbd7,h4,c5,dxc5,Nxc5,h5,b4,Nce2,a5,Kb1,a4,Nc1,axb3,cxb3,Qa5,Bd4,Nxd3,Qxd3,Bc6,Rd2,Bb5,Qc2,Nd7,g4,e5,Bc5,Nxc5,Rxd5,O-O,Rxe5,Bf6,Rxc5,Qb6,f4,Ra7,g5,Bc3,Qf5,Rfa8,Rh2,Ra5,gxh6,Qd6,Rxb5,Rxa2,Nxa2', 'Qd1+,Nc1,Ra1#', 'https://lichess.org/training/GUKCL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('guKNz', 'Rapid', 'drzoidberg82', 1724, 'vrash', 1715, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,c5,Bg5,c4,Be2,Nc6,O-O,Bf5,Re1,Be7,Bxf6,gxf6,b3,b5,a4,b4,Nb1,c3,Bb5,Rc8,a5,O-O,Ra4,Nxa5,Bd3,Bxd3,Qxd3,Bd6,Qf5,Bc7,Rxb4,Qd6,Ra4,Rfe8,Nxc3', 'Rxe1+,Nxe1,Qxh2+', 'https://lichess.org/training/guKNz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gUm4a', 'Rapid', 'keilormiso', 2046, 'BobyyyFischer', 2013, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,Nbd7,Bd3,c5,c3,b6,h3,Bb7,Nbd2,Be7,Ne5,O-O,Qf3,Rc8,O-O,c4,Bc2,b5,g4,b4,g5,Ne8,Bxh7+,Kxh7,Qh5+,Kg8,g6,Ndf6', 'gxf7+,Rxf7,Qxf7+', 'https://lichess.org/training/gUm4a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gummA', 'Blitz', 'darant', 1716, 'adamustafa', 1721, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,a6,Qd2,e6,O-O-O,Nge7,f3,b5,h4,Bb7,h5,Nxd4,Bxd4,e5,Be3,b4,Nd5,Nxd5,exd5,Qf6,Bc4,d6,f4,e4,Bd4,Qxd4,Qxd4,Bxd4,Rxd4,Rc8,Rxe4+,Kd7,Bb3,Rc5,Rhe1,Bxd5,Re7+,Kc6,Bxd5+,Rxd5,Rxf7,Rxh5,Ree7,Rh1+,Kd2,h5,Rc7+,Kd5,Rg7,Re8,Rxg6,Rhe1,Rg5+,Kd4,c3+,bxc3+', 'bxc3+,Ke4,Rc4#', 'https://lichess.org/training/gummA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gumNu', 'Rapid', 'Abhay2188', 1742, 'Alex_535', 1739, 'e4,c5,Nf3,e6,Nc3,a6,d4,cxd4,Nxd4,Bb4,Bd2,Nc6,Nxc6,bxc6,e5,d5,a3,Bxc3,Bxc3,c5,b4,c4,Be2,Ne7,O-O,O-O,Bb2,Bb7,f4,f5,exf6,Rxf6,Bxf6,gxf6,Bh5,Nf5,Qg4+,Kh8,Rae1,Qd7,Qh3,Rg8,Bg4,d4,Bxf5,Rxg2+,Qxg2,Bxg2,Kxg2,exf5,Re2,d3,cxd3,cxd3,Rd2,Qd5+,Rf3,Qe4,Rxd3,Qe2+,Kg3,Qe1+,Kh3,Qe7,Rde3,Qf7,Rd3,Qh5+,Kg2,Qg6+,Rg3,Qe8,Rd6,Qe7,Rc6', 'Qe4+,Rf3,Qxc6', 'https://lichess.org/training/gumNu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gUn5d', 'Classical', 'gndapet', 1811, 'Alzeele197', 1853, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,c3,Nc6,O-O,Rc8,a3,Bg4,Nbd2,Nh6,Nb3,cxd4,Bxh6,gxh6,cxd4,Rg8,g3,h5,Kg2,h4,Nxh4,Qxh4,f3,Qh3+,Kh1,Bf5,g4,Bg6,Rg1,h5,Rg3,Qh4,Qg1,Bh6,gxh5,Qxh5,Bd3,Bf4,Bxg6,fxg6,Rg4,Rh8,Rg2,Qxf3,Nc5,Rxh2+,Qxh2,Bxh2,Kxh2,Nxd4,Nxb7,Qf4+,Kh1,Qh4+,Rh2,Qe4+,Rg2,Nf3,Nd6+,Kd7,Nxe4', 'Rh8+,Rh2,Rxh2#', 'https://lichess.org/training/gUn5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GungB', 'Rapid', 'DanielDamas', 1790, 'davidp1995', 1823, 'e4,e5,Nf3,d6,Bc4,c5,Nc3,Be7,Nd5,Nf6,Nxe7,Qxe7,d3,h6,c3,O-O,Bd2,Be6,b3,Bxc4,bxc4,a6,d4,cxd4,cxd4,Nxe4,O-O,f6,dxe5,dxe5,Be3,Nc6', 'Qd5+,Rf7,Qxe4', 'https://lichess.org/training/GungB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GuNLJ', 'Rapid', 'kasquarrov', 1949, 'arrail', 1961, 'e4,d6,Nf3,e6,d4,Nf6,Bd3,Nc6,c3,e5,d5,Ne7,O-O,a6,Qa4+,Bd7,Qb3,b6,h3,c5,dxc6,Bxc6,Ng5,d5,exd5,Bxd5,Bc4,b5,Bxd5,Qxd5,Qc2,Rd8,Be3,h6,Nf3,Qe6,a4,Ned5,Bd2,Bc5,axb5,axb5,Na3,Qc6,Nxe5,Qb6,Rae1,O-O,Nd3,Bxa3,bxa3,Qd6,Nb4', 'Nxb4,cxb4,Qxd2', 'https://lichess.org/training/GuNLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('guNLk', 'Rapid', 'LaoCa', 1807, 'DragonKiller724', 1607, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d6,Bf4,c5,e3,cxd4,exd4,Nc6,a3,O-O,Qc2,e5,dxe5,dxe5,Bg5,h6,Bxf6,Bxf6,Nd5,Bg7,O-O-O,Qa5,h4,Be6,Nc3,Rac8,Kb1,Nd4,Nxd4,exd4,Ne4,Rxc4', 'Bxc4', 'https://lichess.org/training/guNLk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GunyB', 'Rapid', 'Almaz8', 1991, 'Johnmakol', 1974, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,Nc6,Be3,e6,Qd2,Be7,O-O-O,O-O,g4,Ne5,h4,Nfd7,h5,b5,Bd3,b4,Nce2,a5,g5,Nxd3+,Qxd3,Bxg5,f4,Bf6,Rdg1,Nc5,Qd1,Nxe4,Qf1,Bb7,Nf3,Qc7,Qg2,Rfc8,Ned4,e5,Nf5,g6,hxg6,fxg6,Nh6+,Kg7,Nf5+,Kf8,fxe5,Bxe5,Bh6+,Ke8,Nxe5,dxe5,Ng7+,Kf7,Rf1+,Kg8,Ne6,Qe7,Qh3,Nc5,Bf8,Qxe6', 'Qxh7#', 'https://lichess.org/training/GunyB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GuO8b', 'Blitz', 'RakingBishops', 2526, 'IM Takacsbl', 2583, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,Nf6,Re1,e6,c3,a6,Bf1,Be7,d4,cxd4,cxd4,d5,e5,Ne4,Nbd2,Nxd2,Bxd2,O-O,Bd3,f5,exf6,Nxf6,Qe2,Bd6,Ne5,Bd7,h3,Re8,Rac1,Rc8,f4,Rxc1,Rxc1,Bb8,g4,Ba7,Be3,Ne4,Bxe4,dxe4,Qc2,Bb5,Qxe4,Qe7,b3,a5,a4,Ba6,Kh2,Bb8,d5,Bxe5,fxe5,exd5,Qxd5+,Kh8,Bf4,h6,Bg3,Qg5,Re1,Qe7,e6,b6,Qd7,Bc8,Qxe7,Rxe7,Rc1,Bxe6,Re1,Kg8,Bd6,Re8,Bc7,Kf7,Rf1+,Kg6,Rf3,Bd5,Rd3,Re2+,Kg3,Be4,Rd6+,Kf7,Rxb6,g5,h4,Rg2+,Kh3,h5,hxg5,Rxg4,Rb5,Bc2,Bxa5,Kg6,Bd2,Rd4,Rb6+,Kf7,Bc3,Rd3+,Kh4,Rxc3,Kxh5,Bf5', 'Rf6+,Kg7,Rxf5', 'https://lichess.org/training/GuO8b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GupL8', 'Rapid', 'nckcc4', 1678, 'Namir1987', 2015, 'Nf3,e6,g3,d5,Bg2,Nf6,O-O,c5,d3,Nc6,Nbd2,Bd6,Re1,O-O,e4,dxe4,dxe4,Re8,Nc4,Bc7,Bg5,h6,Bxf6,Qxf6,c3,Rd8,Qe2,b6,e5,Qe7,Nh4,Bb7,f4,Rac8,f5,exf5,Nxf5,Qg5,Ncd6,Bxd6,Nxd6,Rxd6,exd6,Rd8,Rad1,Na5,d7,Bxg2,Qe8+,Kh7,Kxg2,Qf6,Rf1', 'Qc6+,Kg1,Rxe8,dxe8=R,Qxe8', 'https://lichess.org/training/GupL8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GUqZY', 'Rapid', 'Miryunisyek', 2042, 'Papiesh2137', 2036, 'd3,d5,c4,d4,e3,e5,exd4,exd4,Nf3,c5,Be2,Nf6,O-O,Be7,Nbd2,O-O,a3,a5,Re1,Nc6,g3,Bh3,Bf1,Qd7,Bg2,Bd6,Ne4,Nxe4,Rxe4,Rfe8,Bf4,Bxg2,Kxg2,Rxe4,dxe4,Re8,Qd3,Bxf4,gxf4,Qg4+,Kf1,Qh3+,Ke2,Ne7,Rg1,Nf5,Kd2,Nd6,e5,Nf5,Qe4,b6', 'Ng5,Qb3,Qxf5', 'https://lichess.org/training/GUqZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GURDD', 'Rapid', 'rajjan', 2370, 'tbabaev', 2195, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Bb4+,Nbd2,O-O,a3,Be7,O-O,c5,dxc5,bxc5,Qc2,Nc6,Ne5,Qc7,Nxc6,Bxc6,Bxc6,Qxc6,Nf3,d6,Rd1,e5,Bg5,h6,Bxf6,Bxf6,Rd5,Rfd8,Rad1,Rab8,Nd2,Qb6,b3,Be7,Rd3,g6,Rb1,f5,b4,Bg5,bxc5,Qxc5,Rxb8,Rxb8,Rb3,Rxb3,Nxb3,Qxa3,h4,Be7,h5,Kg7,hxg6,Kxg6,g4,e4,gxf5+,Kxf5,f3,Kf6,fxe4,Qa6,e3,Qb6,Nd4,Kf7,Qf2+,Ke8,Qf5,Qb1+,Kg2,Qb2+,Kg3,Qc1,Qc8+,Kf7,Qe6+,Ke8,Nf5,Qg1+,Kf3,Qf1+,Kg3,Qg1+,Kf4,Qf2+,Kg4,Qg2+,Ng3', 'h5+,Kxh5,Qxg3', 'https://lichess.org/training/GURDD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gus7A', 'Blitz', 'phenixa', 1755, 'EMANUEL37', 1762, 'e4,e5,Nf3,d6,Bc4,c6,d4,Qc7,dxe5,dxe5,O-O,Be7,Bg5,Nf6,Nc3,b5,Bb3,Na6,a3,Nc5,Ba2,O-O,Ne2,Bg4,Ng3,Ne6,Be3,Rfd8,Qe2,Nd4,Bxd4,exd4,h3,Bxf3,Qxf3,c5,Nf5,Qe5,Rfe1,c4,b3,Rac8,bxc4,bxc4,Rab1,Bf8,Rb7,a6,a4,Rc7,Rb6,Nd7,Rxa6,Nc5,Ra5,d3,cxd3,cxd3,Rd1,d2,Bd5,Rxd5,exd5,Qe1+,Rxe1,dxe1=Q+,Kh2,Qe5+,g3,g6,d6,Rd7,Ne3,Qxd6,Ra8,Kg7,Ng4,Qd5', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/Gus7A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('guSKy', 'Blitz', 'vladimir-li', 1666, 'kingslayer92', 1682, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,Bd7,h3,Qf6,c3,O-O-O,d4,Re8,Bg5,Qg6,Qd2,f5,Nh4,Qh5,Be2,Qf7,d5,Nce7,f3,f4,Bxe7,Bxe7,Nf5,Bxf5,exf5,Qxf5,Bd3,Qf7,c4,h5,Nc3,g5,Qc2,g4,Bg6,Qf8,Bxe8,Qxe8,fxg4,hxg4,Qf5+,Kb8,Qxg4,Nf6,Qe6,Rg8,Rf3,Nh5,Rd1,Ng3,Kf2,Bh4,Kg1,Qf8,c5,Qg7,cxd6', 'Ne2+,Kf1,Qxg2#', 'https://lichess.org/training/guSKy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('guSqX', 'Blitz', 'Doncyrleone', 1918, 'nikotin1919', 1825, 'e4,e6,Qe2,Nc6,Nf3,Nge7,d3,g6,g3,Bg7,Bg2,O-O,O-O,d5,c3,dxe4,dxe4,Ne5,Bf4,Nxf3+,Bxf3,Nc6,Rd1,Qe7,Na3,b6,Nb5,Bb7,Nxc7,Rac8,Nb5,a6,Nd4,Nxd4,cxd4,Bxd4,Rxd4,e5,Rd7,Qxd7,Bxe5,Rfe8,Bc3,Qe6,Qe3,Bxe4,Bxe4,Qxe4,Qxb6,Rc6,Qb7,Rce6,Qd7,h5,Re1,Qf5', 'Qxe8+,Rxe8,Rxe8+,Kh7,Rh8#', 'https://lichess.org/training/guSqX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gUu5D', 'Classical', 'p3p3r0n1', 1704, 'Dario19503', 1722, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,Nf6,Nbd2,Bd6,Bg3,O-O,c4,c6,Nh4,Bg4,f3,Bh5,Bxd6,Qxd6,g4,Bg6,c5,Qc7,Nxg6,fxg6,g5,Nfd7,f4,b6,Bh3,Re8,b4,a5,a3,Na6,Rb1,axb4,axb4,bxc5,bxc5,Qa5,O-O,Nc7,Nf3,Nb5,Qd3,Kf7,Ne5+,Nxe5,fxe5+,Ke7,Qd1,Rf8,Qg4,Rf5,Qg3,Rxf1+,Rxf1,Qd8,Qg4,Qg8,Qh4,Ra3,Qf2,Nxd4,exd4,Rxh3,Ra1,Qb8,Ra6,Rb3,Rxc6', 'Rb1+,Kg2,Rb2,Rc7+,Kd8', 'https://lichess.org/training/gUu5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GUWUk', 'Classical', 'glavin', 2030, 'hgh_sharp', 2212, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,Ne5,Nd7,Nxg6,hxg6,Bd3,Qc7,c3,Ngf6,Qf3,Bd6,Ne4,Nxe4,Bxe4,Nf6,Bd3,O-O-O,Bg5,Rh5,h4,Rhh8,Bxf6,gxf6,Qxf6,e5,a4,exd4,cxd4,Be7,Qxf7', 'Bb4+,Kf1,Qxf7', 'https://lichess.org/training/GUWUk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GUxDq', 'Rapid', 'mplus', 1947, 'arthuraguiar', 1931, 'e4,e5,f4,exf4,Nf3,Be7,d4,Bh4+,Ke2,d5,e5,g5,Nxh4,gxh4,Kf2,Qg5,Qf3,Nc6,Bb5,Bd7,c3,O-O-O,Bxf4,Qg6,Bd3,Bf5,Qh3,Bxh3,Bxg6,Bxg2', 'Bf5+,Kb8,Kxg2', 'https://lichess.org/training/GUxDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GuXzh', 'Blitz', 'ZICK80', 1841, 'DanVin', 1863, 'e4,e5,f4,exf4,Nf3,d5,e5,Bg4,d4,g5,Bd3,Nc6,c3,f6,O-O,fxe5,Bb5,e4,Qe1,Qe7,Ne5,Nf6,Nxc6,bxc6,Bxc6+,Kf7,Bxa8,e3,b3,Qe4,Bc6,Bd6,Ba3,h5,Bxd6,cxd6,Na3,h4,Nc4,Ke7,h3,Bf5,Rf3,g4,Rxe3,fxe3,Qxe3,gxh3,Re1,hxg2,Qf2,h3,Rxe4+,Nxe4,Qxf5', 'h2+,Kxg2,h1=Q#', 'https://lichess.org/training/GuXzh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GUy5l', 'Rapid', 'Alireza3959', 1820, 'Queen_Rook_crusher', 1831, 'e4,e6,Nc3,Nf6,e5,Ng8,Nf3,d6,d3,dxe5,Nxe5,Nf6,Ng4,Nbd7,Nxf6+,Nxf6,Be2,Bb4,Bd2,O-O,a3,Ba5,O-O,c6,Ne4,Nxe4,Bxa5,Qxa5,dxe4,b5,Qe1,Qa4,Bd3,Qd4,Qc3,Qb6,Rad1,Ba6,b4,Rac8,Qe5,c5,c3,f6,Qg3,c4,Bc2,Rcd8,Rxd8,Rxd8,Rd1,Rxd1+,Bxd1,Qd8,Qf3,Bb7,Qe2,Bxe4,f3,Bf5,g4,Qb6+,Kg2,Bd3,Qf2,Qa6,Qe3,e5,Qc5,Qxa3,Qd5+,Kf8,Qd8+,Kf7,Qd7+,Kg6,Kg3,Qc1', 'Qe8+,Kh6,Qh5#', 'https://lichess.org/training/GUy5l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('guyrV', 'Rapid', 'Dharvindra', 1742, 'karlok', 1909, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,O-O,d6,h3,O-O,d3,h6,Re1,Be6,Bb3,Nd4,Bxe6,fxe6,Be3,Qd7,Bxd4,exd4,Ne2,e5,Ng3,Rf7,Nf5,Nh5,N3h4,Nf4,Ng6,Nxg6,Qg4,Rf6', 'Nxh6+,gxh6,Qxd7', 'https://lichess.org/training/guyrV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GUYRx', 'Rapid', 'Jupp3', 1772, 'poligami', 1704, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bg5,f6,exf6,Nxf6,g3,Bb4+,Nbd2,O-O,a3,Be7,Bg2,d5,cxd5,Qxd5,O-O,Qd8,Rc1,Bf5,Nh4,Bg4,Bxc6,bxc6,Rxc6,Bh3,Re1,Qd5,Rc2,Qxg5,Ndf3,Qd5,Rd2,Qb5,Nd4,Qb6,Nhf5,Bxf5,Nxf5,Bd6,Nxd6,cxd6,Rxd6,Qxb2,e4,Qxa3,e5,Ne8', 'Qd5+,Kh8,Qxa8', 'https://lichess.org/training/GUYRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('guzMh', 'Rapid', 'SegoQQ', 1800, 'shsruano', 1903, 'e4,c5,b3,Nc6,Ne2,e5,Bb2,d6,Ng3,Be6,Bb5,Qd7,O-O,Be7,Nc3,a6,Be2,f5,exf5,Bxf5,Nxf5,Qxf5,Nd5,Qc8,Nb6,Qd8,Nxa8,Qxa8,Bc4,Nf6,Re1,d5,Bf1,Qb8,h3,O-O,d3,Bd6,a3,b5,a4,b4,c4,d4,Bc1,Ne7,Bg5,Ng6,Bxf6,Rxf6,Ra2,Nf4,Re4,Rg6,g3,Ne6,Be2,Qf8,Qf1,Ng5,Rg4,h5,Rxg5,Rxg5,Bd1,h4,Bg4,hxg3,fxg3,e4,Be6+,Kh8,Qxf8+,Bxf8,g4,e3,Kg2', 'Re5,Kf3,Rxe6', 'https://lichess.org/training/guzMh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gv2hk', 'Rapid', 'AhMaD__Sy', 2030, 'ArturBondarenko-1984', 2030, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c3,d6,d4,Bd7,O-O,Ng6,Re1,Be7,Nbd2,O-O,Nf1,a6,Ba4,Kh8,Ng3,f5,exf5,Bxf5,Nxf5,Rxf5,dxe5,Ncxe5,Nxe5,Nxe5,Bc2,Rf7,Qh5,h6,Bxh6,gxh6,Rxe5,Rg7,Re6,Bg5,Rae1,Qg8,h4,Bd2,Rd1,Rxg2+,Kf1', 'Rg1+,Ke2,Qxe6+', 'https://lichess.org/training/Gv2hk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gV3qP', 'Rapid', 'lebed224', 1765, 'fernandonov', 1828, 'b4,e6,Bb2,d5,e3,Nf6,a3,Be7,Ne2,Nbd7,Ng3,e5,Be2,c6,Nf5,O-O,Nxe7+,Qxe7,O-O,h6,d3,Nh7,Nd2,f5,f4,exf4,Rxf4,Ndf6,Bd4,Be6,Bc5,Qd7,Bxf8,Rxf8,Nf3,g5,Rd4,g4,Nh4,Bf7,g3,Qe6,Qf1,Qxe3+,Qf2,Qd2,Nxf5,Re8,Re1,Ng5,Nxh6+,Kg7,Nf5+,Kh7,Nd6', 'Nh3+,Kf1,Nxf2', 'https://lichess.org/training/gV3qP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gv5ue', 'Blitz', 'malcriado007', 2404, 'FM topin8', 2386, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,d3,d6,h3,O-O,O-O,Kh8,Re1,Ng8,Nd5,f5,Nxe7,Qxe7,exf5,Bxf5,Bb3,Qf6,Ng5,Qg6,Qf3,h6,Ne4,Nd4,Qg3,Bxe4,Rxe4,Qxg3,fxg3,Nf6,Re1,Nh5,g4,Nf4,Be3,c5,Rad1,b5,c3,Nxb3,axb3,Rac8,Bxf4,Rxf4,Ra1,Rc7,Ra6,Rf6,Re2,Rcf7,c4,bxc4,bxc4,Rb7,Rf2,Rxf2,Kxf2,Rxb2+,Kf3,Rd2,Rxd6,a5,Ke4,Rxg2,Kxe5,Rg3,Kf5,Rxh3', 'Kg6,Rf3,Rd8+,Rf8,Rxf8#', 'https://lichess.org/training/Gv5ue');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gv5uv', 'Blitz', 'Blicquy', 1802, 'VedranTriPrsta', 1741, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nge2,O-O,Bg5,h6,h4,hxg5,hxg5,Nh5,Rxh5,gxh5,Nf4,Bg4,Be2,e5,Nfd5,c6,Nf6+,Bxf6,gxf6,Qxf6,Bxg4,hxg4,Qxg4+,Qg6,Qf3,exd4,Ne2,c5,O-O-O,Nc6,Rh1,Ne5,Qh3,Qg7,Nf4,Nxc4,Nd5,Rae8', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/gv5uv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gv8Jh', 'Rapid', 'konstantinos22', 1698, 'taoufiq63', 1650, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,Nxd4,Qxd4,e6,Bg5,Be7,Be2,O-O,e5,Ne8,Bxe7,Qxe7,O-O-O,f6,exf6,Nxf6,Bf3,d5,Rhe1,a6,Nxd5,Nxd5,Bxd5', 'Qg5+,Qe3,Qxe3+,Rxe3,exd5', 'https://lichess.org/training/gv8Jh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gv9GA', 'Rapid', 'MegaMamba', 1651, 'doomsurfer', 1754, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,h3,O-O,Bc4,Nxe4,Bxf7+,Rxf7,Nxe4,Bf5,Ng3,Nc6,c3,e5,Be3,exd4,Nxd4,Nxd4,Bxd4,Qg5,O-O,Raf8,Bxg7,Kxg7,Nxf5+,Rxf5,Qd4+,Kg8,Qxa7,Rb5,Qd4,Rxb2,c4,Rd2,Qa7,Qc5,Qxc5,dxc5,a4,Rc2,Rac1,Rd2,f3,Rfd8,Rb1,b6,a5,Ra2,axb6,cxb6,Rxb6,Rc2,Rfb1,Rdd2,Rc6,Rxg2+,Kf1,Rh2,Rxc5', 'Rh1#', 'https://lichess.org/training/Gv9GA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gv9jD', 'Blitz', 'aperturadragon', 1821, 'Luzblanca', 1793, 'Nf3,Nf6,d4,d5,Bf4,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Bd6,Nc3,Bxf4,exf4,O-O,O-O-O,Nbd7,Kb1,c5,Qe3,cxd4,Nxd4,Rc8,h3,Qb6,g4,Rxc3,Qxc3,Ne4,Qe3,Rc8,Ka1,a5,f3,Nd6,c3,Nc4,Qe2,a4,f5,e5,Ne6,fxe6,fxe6,Nc5,Rxd5,Nb3+,axb3,axb3,e7,Ra8+,Kb1,Ra1+,Kxa1,Qa6+,Ra5', 'Qxa5+,Kb1,Qa2+,Kc1,Qa1#', 'https://lichess.org/training/Gv9jD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gv9Pd', 'Rapid', 'AbsinthC2Q', 1819, 'McTominay', 1756, 'e4,e5,Nc3,d6,d3,Nf6,Bg5,Be7,f4,exf4,Bxf4,O-O,h3,Nc6,Nf3,Re8,Be2,Nd7,O-O,Nde5,Be3,Nxf3+,Rxf3,Ne5,Rf2,Bh4,Rf1,Bg5,Qd2,Bxe3+,Qxe3,Qh4,Rf4,Qg5,h4,Qg6,Nd5,Rb8,h5,Qg5,Nxc7,Rf8,Nd5,Bg4,Qg3,Rbc8,Bxg4,Rxc2,Raf1,Rd2,Qh3,Rxd3,g3,Rd2,h6,g6,Nf6+,Kh8,R1f2,Rxf2,Kxf2', 'Nd3+,Kf3,Nxf4', 'https://lichess.org/training/Gv9Pd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gva6M', 'Rapid', 'Soltani88', 1854, 'nton', 1836, 'e4,d6,Nc3,e5,Nf3,f6,d4,Be6,dxe5,fxe5,Be3,Nf6,h3,Be7,Qd2,O-O,Ng5,Qd7,Nxe6,Qxe6,Nb5,Qd7,g4,Nxe4', 'Qd5+,Kh8,Qxe4', 'https://lichess.org/training/Gva6M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GvCOE', 'Rapid', 'nibbayouatemybeans', 1864, 'reza_dadar', 1986, 'e4,e5,Bc4,Bc5,Nf3,d6,d4,exd4,c3,dxc3,Nxc3,Nf6,e5,Qe7,O-O,dxe5,Nxe5,O-O,Re1,Be6,Bxe6,Qxe6,Ng6,Qf5,Nxf8,Bxf2+,Kh1,Bxe1,Qxe1,Kxf8,Ne2,Nc6,Ng3,Qd5,Bf4,Re8,Qf2,Ne4,Nxe4,Qxe4,Bxc7,Nb4,Bd6+,Kg8,Qxa7,Nd3,Ba3,Qe1+,Rxe1', 'Rxe1+,Qg1,Nf2#', 'https://lichess.org/training/GvCOE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GvCqN', 'Rapid', 'Karhunen', 2111, 'm3h3di', 1963, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,d6,h3,O-O,d4,exd4,Nxd4,Re8,O-O,Nbd7,Re1,Ne5,Bb3,b6,Kh1,Bb7,f3,Qd7,Nf5,g6,Nh6+,Kg7,f4,Nxe4,Nxe4,d5,Nxc5,bxc5,fxe5,c4,Bxc4,d4,Bxf7', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/GvCqN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gVD4T', 'Rapid', 'noel123', 1873, 'dungloctan', 1853, 'd4,d5,Bf4,Nc6,Nf3,Nf6,e3,a6,h3,Bd7,c4,e6,Nbd2,Bd6,Bh2,O-O,Bd3,h6,O-O,dxc4,Bxc4,Bxh2+,Kxh2,Qe7,Be2,Rad8,Qb3,b5,a4,e5,d5,e4,dxc6,exf3,Bxf3,Qd6+,Kg1,Bxc6,Bxc6,Qxc6,Nf3,Ne4,axb5,axb5,Rac1,Qb6,Rfd1,Rxd1+,Rxd1,c5,Rd5,Qa5,Nh2', 'Qe1+,Nf1,Qxf2+', 'https://lichess.org/training/gVD4T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvecz', 'Rapid', 'Kijevatov', 1876, 'mazwell', 1789, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,c3,O-O,O-O,d6,h3,Na5,Bb5,d5,Nxe5,c6,Ba4,Bd6,f4,dxe4,b4,Bxb4,cxb4,Qd4+,Rf2,Qxa1,Bb2,Qxa2,bxa5,e3,Re2,Qe6,Rxe3,Nd5,Re4,Qh6,Qf3,Bf5,Rd4,Qh4,Qf2,Qxf2+,Kxf2,Be6,Ba3,Rfc8,g4,f6,Nc4,b5,f5,Bxf5,gxf5,bxa4,Nbd2,Re8,Ne4,Red8,Ncd6,Rab8,Rxa4,Rb3,Nc5,Rxa3,Rxa3,Rxd6,Rb3,Kf7,Rb7+,Ne7,Rxa7,Rd5,Ke3', 'Rxc5', 'https://lichess.org/training/gvecz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GVEdc', 'Blitz', 'malcomar', 1577, 'Fabietto46', 1526, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nf6,Nc3,e6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Nf3,O-O,Bd3,f6,h4,fxe5,Nxe5,Nxe5,dxe5,Nc6,Qc2,g6,f4,Nd4,Qf2,c5,O-O-O,Bd7,Ne4,Ba4,Nf6+,Kg7,b3,Bxb3,axb3,Nxb3+,Kb2,Nd4,h5,c4,Be4,Qb4+,Kc1,Qc3+,Bc2', 'Nb3+,Kb1,Qa1#', 'https://lichess.org/training/GVEdc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvEpQ', 'Rapid', 'Lalitkumarnnl', 1755, 'i88tq', 1649, 'e4,d5,e5,e6,d4,c5,Nf3,Nc6,Bb5,Bd7,Be3,cxd4,Bxc6,dxe3,Bxd7+,Qxd7,fxe3,Bc5,Qe2,Ne7,Nc3,Nf5,e4,dxe4,Nxe4,Nd4,Nxd4,Qxd4,Rd1,Qxe5', 'Qb5+,Kf8,Qxc5+,Qxc5,Nxc5', 'https://lichess.org/training/gvEpQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gvftw', 'Classical', 'iqfranta', 1663, 'zeddinho', 1679, 'e4,e5,Bc4,Nf6,d4,exd4,Bxf7+,Kxf7,e5,Ng8,Qxd4,d6,Nf3,Nc6,Qe4,Qe8,Qd5+,Be6', 'Ng5+,Kg6,Nxe6', 'https://lichess.org/training/Gvftw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GVGhJ', 'Rapid', 'dakydaram', 2193, 'Groza38', 1981, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bg4,h3,Bh5,Nc3,Nf6,Be2,e6,Ne5,Bxe2,Qxe2,a6,O-O,Bb4,a3,Bxc3,bxc3,O-O,Bg5,h6,Bh4,Nbd7,Nxd7,Qxd7,Bxf6,gxf6,f4,f5,Rf3,Kh7,Qe5,Rg8,Rb1,Rg7,Kh2,Rag8,Rf2,b5,a4,bxa4,Rb6,Qe7,Rxa6,Qh4,Qe3,Rg3,Qd2,Rxc3,Rxa4,Qg3+,Kh1,Qh4,Ra7,Rxh3+,gxh3', 'Qxh3+,Rh2,Qf1#', 'https://lichess.org/training/GVGhJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gVHxc', 'Blitz', 'Darina2011', 1550, 'draleks', 1831, 'd4,Nf6,g3,g6,Bg2,Bg7,Nf3,d6,O-O,O-O,Nc3,Nbd7,e4,Re8,Bg5,h6,Bf4,e5,dxe5,dxe5,Be3,Ng4,Bd2,Qe7,Nd5,Qd6,Qc1,c6,Ne3,Nxe3,Bxe3,Kh7,Rd1,Qe7,c3,Nb6,Bxb6,axb6,a3,Bg4,h3,Bxf3,Bxf3,Qf6,Bg2,Qe7,Qc2,Qc5,Rd7,Re7,Rad1,Rae8,b4,Qb5,c4,Qa6,Qb3,c5,b5,Qa8,a4,Qc8,R7d6,Bf8,Rxb6,Rd7,Rxd7,Qxd7,Bf1,h5,a5,Ra8,a6,bxa6,Rxa6,Rb8,b6,Be7,Ra7,Qe8,b7,Bd6,Qb6,Qe7,Ra8,Rxb7,Qc6,Rd7', 'Qc8,Rd8,Qxd8,Qxd8,Rxd8', 'https://lichess.org/training/gVHxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GvIHY', 'Blitz', 'Garnik95', 2449, 'FM yudinetz', 2453, 'e4,Nf6,e5,Nd5,f4,Nxf4,d4,Nd5,c4,Nb6,Nc3,d6,Nf3,g6,Bg5,Bg7,Qd2,h6,Bf4,Nc6,e6,Bxe6,d5,Bg4,dxc6,bxc6,Be2,e5,Be3,c5,h3,Be6,Nd5,f5,O-O-O,Rb8,b3,f4,Bf2,Bxd5,cxd5,e4,Ng1,Qf6,Qc2,O-O,h4,a5,Bg4,a4,Be6+,Kh8,h5,g5,b4,a3,bxc5,dxc5,Bxc5,Rfd8,Bd4,Qe7,Qc3,Na4,Bxg7+,Qxg7,Qxg7+,Kxg7,Rd2,Rb2,Rc2,Rxc2+,Kxc2,Rb8,Ne2,Rb2+,Kc1,Rxa2', 'd6,cxd6,Bxa2', 'https://lichess.org/training/GvIHY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvjGy', 'Rapid', 'LeonMenage', 1711, 'danielbestmove', 1627, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nge2,h6,d4,Nf6,f3,e5,dxe5,Qxe5,Bf4,Qa5,Qd2,Be7,O-O-O,Be6,Kb1,Nc6,Bg3,Nb4,a3,Nbd5,Nd4,Nxc3+,Qxc3,Qxc3,bxc3,c6,Nxe6,fxe6,Ka2,Nd5,Be5,Bf6,Bxf6,gxf6,Rd3,Ke7,g3,h5,c4,Nb6,Re3,Rhd8,Bd3,Nd7,Rhe1,e5,Bf5,Nb6,Bd3,Nd7,f4,Re8,Bg6,Rh8,fxe5,Nxe5,Kb3,b5,Be4,Kd7,cxb5,Rab8,Bxc6+,Nxc6,Rd1+,Kc7,Ka4,Ne5,Rc3+,Kb6,Rd6+,Kb7,Rxf6,Rbc8,Re3,Nc4,Re7+,Rc7', 'Rxc7+,Kxc7,Rc6+,Kb7,Rxc4', 'https://lichess.org/training/gvjGy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvjKQ', 'Rapid', 'Pylypiv', 1766, 'alimundir', 1769, 'e4,e5,f4,Nc6,Nf3,f5,exf5,e4,Ng5,Nf6,Bc4,d5,Bb5,Bxf5,O-O,h6,Nh3,Bxh3,gxh3,Bd6,d3,Qe7,dxe4,Qxe4', 'Re1,Bc5+,Kf1,O-O-O,Rxe4', 'https://lichess.org/training/gvjKQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GVjS4', 'Classical', 'pjmark', 1674, 'renaton75', 1652, 'd4,d5,c4,dxc4,Nc3,Nc6,e3,a6,Bxc4,b5,Bb3,Nf6,d5,Ne5,Nf3,Nxf3+,Qxf3,Bb7,e4,e6,dxe6,fxe6,Bxe6,Bb4,Bg5,Bxc3+,bxc3,h6,Rd1,Qe7,Bxf6,Qxe6,Qh5+,Kf8,Be5,Bxe4,O-O,Bg6', 'Qf3+,Kg8,Qxa8+', 'https://lichess.org/training/GVjS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvKMy', 'Blitz', 'keyvan97', 1554, 'Nodyl', 1575, 'Nf3,c5,e4,Nc6,c3,e6,d4,Nf6,d5,Na5,d6,Qb6,e5,Ne4,Bd3,Nxf2,Kxf2,c4+,Be3,Qxb2+,Be2,Qxa1,Nd4,Qxa2,Nb5,Kd8,Nd2,b6,Nc7,Rb8,Bg5+,f6,exf6,Bxd6,fxg7+,Kxc7,gxh8=Q,Bb7,Qxh7,Rf8+,Kg1', 'Bc5+,Be3,Bxe3#', 'https://lichess.org/training/gvKMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GVkRb', 'Rapid', 'Abic108', 2011, 'seras81', 1907, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,O-O,Nf3,Nc6,O-O,Bg4,Be3,e5,d5,Nd4,Bxd4,exd4,Nb5,Nd7,Be2,Nc5,Nbxd4,Nxe4,h3,Bd7,Bd3,f5,Re1,Nc5,Bc2,Qf6,b4,Ne4,Bxe4,fxe4,Rxe4,Rae8,Rxe8,Rxe8,Qb3,Qf4,Rd1,Bxd4,Nxd4,Re4,Qf3', 'Rxd4,Rxd4,Qxd4', 'https://lichess.org/training/GVkRb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gVlOm', 'Blitz', 'GusMza', 1824, 'Treriksroset', 1844, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,h3,h6,Nc3,d6,Be3,Bb6,Qd2,O-O,O-O-O,Be6,g4,Nd4,Bxd4,Bxd4,Nxd4,exd4,Ne2,c5,Bxe6,fxe6,f4,b5,f5,e5,g5,hxg5,Qxg5,c4,Rhg1,Rf7,h4,Nh7,Qg3,Qa5,Kb1,c3,bxc3,dxc3,Ka1,b4,h5,Rb8,Rb1,Rb6,h6,Ra6,Nc1,Qc7,Rxb4,Rb6,Rb3,Qb7,hxg7,Rxb3,Nxb3,Rxg7,Qh2,Rxg1+,Qxg1+,Kh8,Qg6,a5,Qe8+,Kg7,Qa4,Qb6,Qa3,Nf6,Nxa5', 'Qg1+,Qc1,Qxc1#', 'https://lichess.org/training/gVlOm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GVLXs', 'Blitz', 'Motmaenfar', 1567, 'Moonman7', 1529, 'e4,c6,e5,d6,exd6,Qxd6,h3,Nf6,d3,Bf5,Nc3,Nbd7,Nge2,O-O-O,Bf4,e5,Be3,g6,g4,Be6,Bg2,Bg7,Qd2,Rhe8,O-O-O,h5,Bg5,hxg4,hxg4,Bxg4,f3,Bf5,Bh3,Bxh3,Rxh3,Rh8,Rdh1,Rxh3,Rxh3,Re8,Kb1,Nd5,Bh6,Bf6,Be3,Nxe3,Qxe3,Qe6,Rg3,Bh4,Rg1,Qh3,Ne4,Re6,c4,f5,Nf2,Bxf2,Qxf2,e4', 'Nf4,Qxf3,Qxf3,exf3,Nxe6', 'https://lichess.org/training/GVLXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GvMq2', 'Classical', 'RegenwaldPorn', 1823, 'arsham1385', 1750, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Nf6,d3,Bg4,O-O,Nd4,c3,Nxf3+,gxf3,Bh5,Qe1,c6,fxe5,dxe5,Be3,Bd6,d4,Qd7,Qg3,exd4,Qxg7,Rg8,Qxg8+,Nxg8,Bxd4,O-O-O,Nd2,c5,Be3,Qh3,Rf2,Nf6,Kh1,Rg8,Bf1,Qe6,Bc4,Qe7,Rd1,Bg6,Re2,a6,Bb3,Nh5,Nc4,Nf4', 'Nxd6+,Kb8,Bxf4', 'https://lichess.org/training/GvMq2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvn4w', 'Rapid', 'the_amazing_tommy', 1944, 'N1Nik32', 2091, 'd4,Nf6,Bf4,e6,e3,d5,c3,Bd6,Bg3,c5,Nf3,Nc6,Nbd2,Qe7,Ne5,cxd4,exd4,Nd7,Nxc6,bxc6,Qa4,Bb7,Ba6,Bxa6,Qxa6,e5,Qxc6,O-O,Nf3,exd4+,Kf1,Bxg3,hxg3,dxc3,Re1,cxb2,Qc2,Qb4', 'Qxh7#', 'https://lichess.org/training/gvn4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gVnJ3', 'Rapid', 'Ashavelkin', 1811, 'brodski', 1874, 'b3,d5,Bb2,c5,e3,Nc6,Bb5,Qb6,Bxc6+,bxc6,h3,Ba6,Ne2,Nf6,O-O,e6,d3,Rd8,Nd2,Be7,a4,O-O,Rb1,Qc7,Nf3,Nd7,Nf4,e5,Nh5,Qd6,Re1,Qg6,Nxe5,Nxe5,Bxe5,f6,Bh2,Bc8,Ng3,Bd6,Qf3,Rfe8,Qh5', 'Bxg3,Qxg6,Bxh2+,Kxh2,hxg6', 'https://lichess.org/training/gVnJ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gVnj7', 'Rapid', 'ANthenriQue', 1859, 'mas2012', 1831, 'e4,e5,Nf3,Nc6,c3,Bc5,d4,exd4,cxd4,Bb6,d5,Nce7,Bg5,h6,Bh4,d6,Bc4,Bg4,h3,Bh5,g4,Bg6,Nd4,Bxe4,f3,Bxb1,Rxb1,g5,Bf2,Qd7,Bb5,c6,dxc6,bxc6,Ba6,Nf6,Qe2,Nd5,Nf5,Bxf2+,Kxf2,Nf4,Qe3,Kd8,b4,Nxf5,gxf5,Qxf5,Rhe1,Nxh3+,Kf1,Qd7,b5,Re8,Qa3,Rxe1+,Rxe1,c5,Qa5+,Qc7,b6,axb6,Bb5,Qa7,Re8+,Kc7,Re7+,Kb8,Rxa7,bxa5,Rxf7,Ra7,Rf8+,Kc7,Rf7+,Kb6,Rxa7,Kxa7,Bd7,Kb6,Bxh3,h5,Bf5,c4,Bg6,h4,Kg2,d5,Kh3,Kc5,Kg4,Kb4,Kxg5,Ka3,f4', 'h3,f5,h2', 'https://lichess.org/training/gVnj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GVnxv', 'Classical', 'pfccska', 1733, 'kajoM', 1817, 'Nf3,d5,d4,Nf6,Nc3,Bf5,Bf4,e6,e3,Bb4,Bd3,Bg6,O-O,Bd6,Bg5,Nbd7,h3,c5,dxc5,Bxc5,Bb5,O-O,Bxd7,Qxd7,Ne5,Qc7,Nxg6,hxg6,Bxf6,gxf6,Qf3,Kg7,a3,a6,Rfd1,Rh8,Ne2,Rh7,c3,Rah8,Qg3,Bd6,Qf3,Qd7,Nf4,e5,Nxd5,Qe6,Nxf6,Rxh3,gxh3,Rxh3,Qxh3,Qxh3,Ne8+,Kf8,Nxd6,Qg4+,Kf1,Qh3+,Ke2,Qh5+,Kd2,Qh2,Rf1,Qg2,Kc2,Qc6,Rad1,b5,f3,Qc5,Rd3,a5,b4,axb4,axb4,Qa7,Kd2,Qa2+,Ke1,Qb1+,Rd1,Qc2,Nxb5,Qa4,Rd5,Qa1+,Kf2', 'Qa2+,Kg3,Qxd5', 'https://lichess.org/training/GVnxv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GVobw', 'Rapid', 'ABC1230', 1802, 'rezonov', 1801, 'e4,c6,d4,d5,Nc3,g6,e5,Bf5,Nf3,e6,h3,h5,Nh4,Qxh4,g3,Qe7,Bg2,Nd7,O-O,Bh6,f4,f6,a4,O-O-O,Ra3,g5,fxg5,Bxg5,Bxg5,fxg5,a5,g4,hxg4,Bxg4,Qd3,Nh6,Nd1,Nf5,a6,h4,axb7+,Kxb7', 'Qa6+,Kb8,Qxa7+', 'https://lichess.org/training/GVobw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvpfS', 'Rapid', 'MilosObilic1389', 2374, 'PsoyKorolenko', 2247, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,Bf5,cxd5,Nxd5,Nd2,Bg6,e4,Nxc3,bxc3,e5,Bb2,exd4,cxd4,Bb4,Bd3,O-O,O-O,Re8,f3,Qb6,Nc4,Qc7,Qb3,a5,a3,Bf8,Rac1,Nd7,Rfd1,a4,Qa2,b5,Ne3,Qb6,Kh1,Nf6,Bf1,b4,axb4,Bxb4,Nc4,Qd8,Ne5,c5,dxc5,Qc7,Nxg6,hxg6,c6,Re6,Bc4,Rxc6,Bxf7+,Kh7,Bd5,Nxd5,Rxc6,Qxc6,exd5,Qd6,Qc4,a3,Ba1,Rd8,Qd4,Rd7,g3,Bc5,Qh4+,Kg8,Kg2,Re7,Qc4,Re8,h4,Re7,f4,Re8,Be5,Qb6,d6+,Kh7,d7,Rd8,h5,Qc6+,Kh2', 'Bg1+,Kxg1,Qxc4', 'https://lichess.org/training/gvpfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GvRzG', 'Rapid', 'Haflinger', 1603, 'OlegShevtsiv', 1653, 'e4,e5,Nf3,d6,Nc3,Be7,d4,exd4,Nxd4,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,Bg5,Re8,Re1,h6,Bh4,Nc6,Nf5,Bd8,Qd2,Ne7,Nxe7+,Bxe7,Rad1,Qg4,Bxf6,Bxf6,h3,Qd7,Nd5,Bxb2,Rb1,Be5,Rxb7,Rec8,Rbb1,c6,Nb4,a5,Nd3,Bf6,Rbd1,Bg5,Qe2,Re8,Nc5,Qc7,Na6,Qb6,Rxd6,Rxa6,Rd3,Bh4,Rb3,Qc7,Qxa6,Qf4,Qf1,Re6,g3,Qg5,Rb8+,Kh7,f4', 'Qxg3+,Kh1,Qxe1,Qxe1,Bxe1', 'https://lichess.org/training/GvRzG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gvt1m', 'Blitz', 'Savianchess', 2328, 'pauloleal', 2249, 'd4,d5,Bg5,c6,e3,Bf5,Bd3,Bxd3,Qxd3,Nd7,c4,dxc4,Qd2,Ngf6,Nc3,e6,Nf3,Be7,O-O,O-O,Rfd1,b5,Qc2,Nd5,Bxe7,Qxe7,e4,Nxc3,bxc3,Nb6,Ne5,Qc7,a4,a6,a5,Nd7,Nf3,Rfd8,e5,c5,Ng5,Nf8,f4,cxd4,cxd4,Ng6,g3,Rd5,Ne4,Qa7,Qc3,Rad8,Nd6,Ne7,Rd2,Nc6,Rad1,f6,Kg2,fxe5,dxe5,Qc5,Rxd5,exd5,Qf3,d4', 'Nb7,Qd5,Nxd8,Qxf3+,Kxf3,Nxd8,Rxd4', 'https://lichess.org/training/Gvt1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gVtqU', 'Blitz', 'Thalapathy97', 1678, 'Lastra', 1542, 'e4,c6,Nf3,d5,exd5,cxd5,Nc3,e6,d4,Nd7,Bb5,h6,Be3,Nf6,Qd2,Bb4,a3,Ba5,b4,Bc7,Ne2,O-O,O-O,Nb6,Ng3,a6,Bd3,Bxg3,fxg3,Ne4,Qd1,Qc7,Ne5,Nc4,Bxc4,dxc4,Bf4,Qe7,Qe1,Nf6,Qe2,b5,Nc6,Qd7,Ne5,Qxd4+,Kh1,Bb7,Bxh6,gxh6,Rxf6,Qxa1+,Rf1,Qd4,Rf4,Qd5,Qg4+,Kh7', 'Rxf7+,Rxf7,Qg6+,Kh8,Nxf7#', 'https://lichess.org/training/gVtqU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GvUdl', 'Rapid', 'shahv', 1808, 'viktorkoval', 1812, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Bg4,d4,g5,h3,Bxf3,Qxf3,Qf6,O-O,Qxd4+,Qf2,Qxc4,Nc3,d5,exd5,Bc5,Re1+,Kd7,Be3,Bxe3,Rxe3,fxe3,Qxf7+,Ne7,Qe6+,Ke8,Rf1,Rf8,Re1,Qd4,Rxe3,Rf7', 'Qc8#', 'https://lichess.org/training/GvUdl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GVUEj', 'Classical', 'SergeyMaryanyan10', 2024, 'minnesotablizzard', 1897, 'e4,e5,Nf3,Nc6,Bb5,g6,c3,Bg7,d4,exd4,cxd4,a6,Ba4,b5,Bb3,Bb7,d5,Ne5,Nxe5,Bxe5,O-O,Qh4,f4,Bg7,Nd2,Nf6,Nf3,Qg4,e5,Nh5,Ng5,Qxd1,Rxd1,h6,Ne4,f5,Nc5,O-O-O,h4,Ng3,Kf2,Bf8,Be3', 'Bxc5,Bxc5,Ne4+,Ke3,Nxc5', 'https://lichess.org/training/GVUEj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GVvEc', 'Rapid', 'pionfou', 2071, 'Nuprow', 1860, 'd4,Nf6,c4,g6,g3,Bg7,Nf3,c6,Bg2,d5,Nbd2,e6,O-O,O-O,Re1,Nbd7,Rb1,Qc7,Qc2,Re8,b3,e5,dxe5,Nxe5,Bb2,Nxf3+,Bxf3,Bf5,e4,dxe4,Nxe4,Nxe4,Bxe4,Bxb2,Bxf5,Rxe1+,Rxe1,Qa5,Rb1,Qxf5,Qxb2,Rd8,Re1,Qd3,Qf6,Qd4', 'Re8+,Rxe8,Qxd4', 'https://lichess.org/training/GVvEc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvvvV', 'Blitz', 'APSICUS', 2317, 'darkanger', 2258, 'e4,c6,d4,d5,f3,dxe4,fxe4,e5,Nf3,Bg4,Bc4,Nd7,c3,Bh5,O-O,Ngf6,Bg5,Bd6,Nbd2,O-O,Bd3,Qc7,h3,Rae8,Qc2,c5,d5,Bg6,Nh4,a6,Nxg6,hxg6,Kh2,b5,c4,b4,Be3,Nh5,Be2,Nf4,Bf3,Nf6,g3,N4h5,a3,a5,axb4,axb4,Ra6,Ra8,Rfa1,Qb7,Rxd6,Rxa1,Nb3,Re1,Bf2,Rf1,Kg2,Rxf2+,Qxf2,Qe7,Qxc5,Nxe4,Bxe4,Qg5,Qf2,f5,Bc2,e4,Re6,f4,g4,e3,Qf3,e2,Nd4,e1=Q,Rxe1,Ng3,Ne6,Qf6,Nxf8,Qxb2,Re2,Qc1,Ne6', 'Qh1+,Kf2,Qf1#', 'https://lichess.org/training/gvvvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gVx9r', 'Rapid', 'Torqwrench', 1925, 'attagol', 1932, 'e4,a6,d4,b5,Nf3,Bb7,Bd3,e6,O-O,Nf6,Re1,d6,c3,Nbd7,Nbd2,c5,Nf1,c4,Bc2,Qc7,Ng3,Be7,h3,e5,d5,Bc8,a4,Nb6,axb5,axb5,Rxa8,Nxa8,Nh4,O-O,Nhf5,g6,Nxe7+,Qxe7,Bg5,Kg7,h4,h6,Bc1,Ng4,h5,g5,f3', 'Qa7+,Kh1,Nf2+,Kh2,Nxd1', 'https://lichess.org/training/gVx9r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvYCH', 'Rapid', 'AA2009', 1898, 'dyson', 1822, 'e4,e6,Nf3,c5,Nc3,Nc6,Bb5,Nf6,a4,a6,Bxc6,bxc6,a5,Be7,d3,O-O,O-O,Bb7,h3,d5,e5,Nd7,Re1,f6,d4,cxd4,Qxd4,fxe5,Nxe5,Nxe5,Qxe5,Bf6,Qxe6+,Kh8,Bd2,d4,Na4,d3,c3,Qxa5,b4,Qc7,Nc5,h6,Nxd3,Rad8,Qc4,Rd5,Bf4,Qd7,Nc5,Qf7,Bg3,Rfd8,Nxa6,Ra8,Nc7', 'Rxa1,Rxa1,Rd1+,Rxd1,Qxc4', 'https://lichess.org/training/gvYCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gVyCR', 'Rapid', 'Adam55', 1603, 'Larochejaquelein', 1770, 'e4,e5,Nf3,f5,Nc3,fxe4,Nxe4,d5,Nc3,e4,Nd4,Nf6,d3,Bc5,Ndb5,Bxf2+,Kxf2,Ng4+,Kg1,Qf6,Qd2,e3,Qe2', 'Qf2+,Qxf2,exf2#', 'https://lichess.org/training/gVyCR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvyGt', 'Blitz', 'woodmccawkfit', 1639, 'Rama31', 1536, 'd4,d5,c4,Bf5,Nc3,e6,Bf4,a6,h3,h6,g4,Bh7,Nf3,Bb4,Bg2,c5,cxd5,exd5,O-O,Nf6,dxc5,Bxc5,a3,O-O,b4,Ba7,e3,b5,Qb3,Nc6,Rad1,d4,exd4,Bxd4,Nxd4,Nxd4,Qb2,Qb6,Bxa8,Rxa8,Be3,Nf3+,Kh1,Qb7,Kg2,Nh4+,Kg3,Qg2+,Kxh4,g5+,Bxg5,hxg5+,Kxg5,Nh5,Kxh5,Qxh3+,Kg5,f6+,Kf4,Qh2+,Ke3,Re8+,Kd2', 'Qf4#', 'https://lichess.org/training/gvyGt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gVyko', 'Rapid', 'chess123boggle', 2081, 'Gino_1', 2061, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Bg7,Be3,O-O,Qd2,Nc6,f3,Qa5,g4,Nxd4,Bxd4,Be6,h4,Rac8,h5,Bc4,hxg6,hxg6,Bxc4,Rxc4,g5,Nh5,Bxg7,Kxg7,Rg1,Rfc8,a3,Qe5,O-O-O,Nf4,Kb1,Rxc3,bxc3,Rxc3,Rg4,Ne6,f4,Qb5+,Kc1,Rxa3,Qd5,Ra1+,Kd2,Rxd1+,Kxd1,Qf1+,Kd2,Nxf4,Qd4+,e5,Qe3,Qc4,Rg1,Qb4+,Kc1,Qa4,Rd1,Qa1+,Kd2,Qa5+,Kc1,Qc7,Qd2,Qb6,Qxd6', 'Ne2+,Kd2,Qxd6+', 'https://lichess.org/training/gVyko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvzdF', 'Rapid', 'No27', 1659, 'Gepardati', 1690, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Bf5,Nf3,e6,d3,Nc6,Nc3,a6,O-O,Bd6,g3,Nge7,Re1,O-O,a4,Rb8,Be3,Bb4,Nd4,Bg6,Qd2,b5,axb5,axb5,Ra6,Qc7,Bf4,e5,Nxc6,Nxc6,Bxd5,exf4,Bxc6,fxg3,fxg3,h6,Qf4,Qxf4,gxf4,Bc5+,Kg2,Rb6,Bxb5,Rxa6,Bxa6,Rb8,b3', 'Bb4,Re5,Bxc3', 'https://lichess.org/training/gvzdF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GVzh7', 'Rapid', 'hrosik', 2073, 'Barakuda83', 1883, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d6,c3,Be7,O-O,O-O,Nbd2,Na5,Bb5,c6,Ba4,b5,Bc2,c5,Re1,h6,Nf1,Nh5,Nxe5,dxe5,Qxh5,Qd6,Ng3,c4,Qe2,Rd8,dxc4,Nxc4,Bb3,Be6,Be3,a5,Rad1,Qc6,Bxc4,Bxc4,Qh5,Bxa2,Qxe5,Bd6,Qf5,Bb3,Rd2,b4,e5,bxc3', 'Rxd6,Rxd6,exd6', 'https://lichess.org/training/GVzh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gvZMs', 'Rapid', 'AlejoADalcolmo', 1761, 'Ygalbel', 1745, 'e4,c5,Bc4,d6,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Be7,O-O,Nbd7,Bxe6,fxe6,Nxe6,Qb6,Nxg7+,Kf7,Nf5,Ne5,Nd5,Nxd5,Qxd5+,Be6,Nh6+,Kf6,Bg5+,Kxg5,Qxe6,Kh5,Nf7,Bg5,Nxg5,Kxg5,Qf5+,Kh6,h4,Kg7,g4,Rhf8,Qg5+,Kh8,Kh1,Rf3,h5,Rh3+,Kg2,Rf3,Rad1,Rg8,Qe7,Rxg4+,Kh2,Rxf2+,Kh3,Rfg2,Rf8+,Rg8,Qf6+,Rg7,Rxg8+,Kxg8,Re1,Qc7,Qe6+,Kh8,Rf1,Qd7', 'Rf8+,Rg8,Rxg8#', 'https://lichess.org/training/gvZMs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GvzYh', 'Classical', 'MrBarnesMustache', 1690, 'Vasilkovsky', 1705, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Qg4+,Kd6,Qe4,Be6,Nc3,Nce7,b3,c6,Ba3+,Kc7', 'Qxe5+,Kd7,Qd6+,Kc8,Qxe6+', 'https://lichess.org/training/GvzYh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GVzyv', 'Blitz', 'schachtherapy', 2064, 'xache', 2064, 'd4,d6,c4,Nd7,Nc3,e5,e4,Ngf6,d5,Nc5,Bd3,a5,Bc2,Be7,h3,O-O,Nf3,c6,Be3,cxd5,cxd5,Qb6,Rb1,Qb4,a3,Qc4,Nd2,Nd3+,Bxd3,Qxd3,Nb3,Qc4,Nd2,Qa6,Qe2,Bd7,Qxa6,bxa6,Nc4,Bb5,Nxa5,Bd3,Rc1,Rfc8,Nc6,Bd8,f3,Nd7,Kd2,Bb5,Nxb5,axb5,Rc2,Kf8,Rhc1,Bb6,Bxb6,Nxb6,Nb4,Nc4+,Rxc4,Rxc4,Rxc4,bxc4,Kc3,Ke7,Kxc4,Kd7,Nc6,Kc7,Kb5,g6,a4,f5,a5,fxe4,fxe4,Rf8,b4,Rf4,a6,Rxe4,Na5,Kb8,Nc6+,Ka8,Ka5,Re2,b5,Ra2+,Kb6,e4,Kc7,e3', 'b6,Rb2,b7+,Rxb7+,axb7#', 'https://lichess.org/training/GVzyv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gw0mH', 'Blitz', 'JorgeAntoniomedina', 1843, 'tprodanov', 1833, 'e4,e6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Nc6,Be3,Nxe5,f4,Nc6,Bb5,Bd7,Nc3,a6,Bxc6,bxc6,O-O,Rb8,b3,Bb4,Nce2,Ne7,Qd3,c5,Nf3,Nf5,Ne5,Nxe3,Qxe3,O-O,Qh3,f6,Nxd7,Qxd7,c3,Ba5,Kh1,Rb7,Rae1,e5,Qxd7,Rxd7,fxe5,fxe5,Rxf8+,Kxf8,Ng3,Bc7,Nf5,Rf7,g4,g6,Ne3,d4,cxd4,exd4,Nd5,Rd7,Rf1+,Kg7,Nf6,Rf7', 'Ne8+,Kg8,Rxf7,Kxf7,Nxc7,d3,Nd5', 'https://lichess.org/training/gw0mH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gw2XZ', 'Blitz', 'Hedgehog_717', 1945, 'karsan', 1867, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,Bf5,Qa4+,Qd7,Qxd7+,Nxd7,Nc3,e6,Nxd5,exd5,Bd2,c6,e3,Bd6,Be2,O-O,h3,Rfe8,O-O,h6,b4,Nf6,Rfc1,Ne4,Be1,g5,b5,cxb5,Bxb5,Rec8,Nd2,a6,Nxe4,Bxe4,Bd7,Rd8,Bg4,f5,Be2,f4,Bg4,Kf7,Ba5,Re8,Bh5+,Bg6,Bxg6+,Kxg6,Bc7,Bxc7,Rxc7,fxe3,fxe3,Rxe3,Rxb7,Rd3,Rc1,Rxd4,g4,Kf6', 'Rc6+,Ke5,Re7+,Kf4,Rf6+,Kg3,Re3+,Kh4,Rxh6#', 'https://lichess.org/training/Gw2XZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GW3bz', 'Classical', 'RedaSherif', 1795, 'upchess-02', 1757, 'e4,g6,Nf3,Bg7,Bc4,d6,d4,Bg4,h3,Bxf3,gxf3,Nd7,Nc3,Ngf6,Be3,O-O,Qd3,Re8,O-O-O,e5,f4,c6,fxe5,dxe5,f4,b5,Bb3,c5,Nxb5,cxd4,Bd2,a6,Nd6,Rf8,fxe5,Nxe5,Qxd4,Nc6,Qc5,Na7,Bg5,h6,Nxf7,Qe8,Nxh6+,Kh7,Ng4,Nxe4,Qc7,Nxg5,h4,Ne6,Bxe6,Qxe6,h5,Qxg4,hxg6+,Kg8,Rhg1,Qf4+,Qxf4,Rxf4,Rd7,Nb5,Rgd1,Nd4,c3,Ne2+,Kc2,Rff8,Rh1,Rad8,Ra7,Ra8,Re7,Rfe8,Rd7,Nf4,Rh7,Re2+,Kd1,Rb8,Rhxg7+,Kf8,Rgf7+,Kg8,Rxf4,Rexb2,Ra4,Rf8,Kc1,Rg2,Rxa6,Rf1+,Rd1,Rff2,Kb1,Kg7,Rd7+,Kh6,g7+,Kh5,Rd5+,Kh4,Rh6+,Kg3,g8=Q+,Kf3,Re6', 'Rf1+,Re1,Rxe1+,Rd1,Rxd1#', 'https://lichess.org/training/GW3bz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GW4aE', 'Rapid', 'janglin93', 1910, 'legend35', 1923, 'e4,e6,Nf3,d5,Bb5+,c6,Bd3,Nf6,exd5,cxd5,Bb5+,Nc6,Bxc6+,bxc6,d4,c5,O-O,a5,c3,Ne4,Qa4+,Bd7,Qc2,Rc8,Nbd2,cxd4,Nxe4,dxe4,Qxe4,dxc3,bxc3,Be7,Bb2,O-O,a3,Bf6,Rac1,Qb6,Ba1,Qb3,Ne5,Qd5', 'Qxd5,exd5,Nxd7', 'https://lichess.org/training/GW4aE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gW4Ei', 'Rapid', 'xhumblex', 1728, 'Petomo', 1891, 'e4,e5,Bc4,Nf6,Nf3,Nc6,d3,Na5,Bg5,Nxc4,dxc4,d6,Nc3,Bg4,h3,Bh5,Bxf6,Qxf6,g4,Bg6,Nd5,Qd8,Qe2,c6,Nc3,Qb6,O-O-O,Be7,Na4,Qb4,Nc3,O-O,g5,f5,Nh4', 'Bxg5+,Kb1,Bxh4', 'https://lichess.org/training/gW4Ei');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gw4VY', 'Blitz', 'Antepante98', 1714, 'Hans-Reiter', 1744, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,a6,e3,dxc4,Bxc4,b5,Bd3,Nc6,Nf3,Be7,O-O,Bb7,Rc1,Rc8,Bxf6,Bxf6,Ne4,Be7,Qd2,O-O,Ng3,Na7,Ne5,c5,Rfd1,c4,Be4,Bxe4,Nxe4,Nc6,Qe2,Bf6,Nxf6+,Qxf6,f4,Nxe5,fxe5,Qd8,Rf1,Qc7,Rf3,a5,Rg3,f5,exf6,Rxf6,Qg4,Rcf8,Qe4,R8f7,Rf3,Rxf3,gxf3,Qc8,Kf2,Re7,Qh4,Qf8,Qh3,Qf6,Rg1,Rf7,f4,e5,dxe5,Qxe5', 'Qc8+,Rf8,Qxf8+,Kxf8,fxe5', 'https://lichess.org/training/Gw4VY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GW5yE', 'Rapid', 'rayyan_baba57', 1927, 'sidnydean', 2028, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,h6,Be2,a6,a4,Bb4,O-O,O-O,Be3,Ne4,Na2,Be7,Qc1,Bf5,Nc3,Nc6,Nd2,Bf6,Ncxe4,dxe4,c3,Qd7,Nc4,Ne7,Re1,Nd5,Bd2,Rae8,Ne3,Bg6,Nxd5,Qxd5,Be3,Be7,b3,Kh7,c4,Qd7,Ra2,f5,Rd2,f4,c5,fxe3,fxe3,Bg5,Qc3,Rf6,d5,Ref8,Bc4,Qf5,d6,Qxc5', 'Bg8+,Kxg8,Qxc5', 'https://lichess.org/training/GW5yE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GWAgi', 'Rapid', 'MrDom2', 1775, 'a1l2a3a4', 1756, 'e4,e5,Bc4,Bc5,Qh5,Qe7,Nf3,Nc6,c3,g6,Qg5,Nf6,Qh6,Ng4,Qg7,Qf8,Bxf7+,Qxf7,Qxh8+,Ke7,O-O,b6,Ng5,Bxf2+,Kh1,Qc4,Qxh7+,Kf6,Qf7+', 'Qxf7,Nxf7,Kxf7', 'https://lichess.org/training/GWAgi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gWAim', 'Rapid', 'JGuilherme', 1939, 'krew88', 1862, 'd4,d5,c3,Nc6,Nf3,g6,Bf4,Bg7,e3,Nf6,Nbd2,Nh5,Bg3,Nxg3,fxg3,O-O,Bd3,Bg4,O-O,e5,dxe5,Nxe5,Be2,c5,h3,Be6,Nxe5,Bxe5,g4,Qd6,Nf3,Bg7,Qc2,Rad8,Rad1,b6,Ng5,Bh6,Ne4,Qe5,Nf6+,Kg7,Kh1,Bg5,Nh5+,gxh5,gxh5,Qxe3,Rf3,Qe5,Bd3,h6,Rdf1,c4,Bg6,d4,cxd4,Rxd4,Bxf7,Bxf7,Rxf7+,Rxf7,Qg6+,Kh8,Qxf7,Qg7', 'Qe8+,Kh7,Rf7,Rd1+,Kh2', 'https://lichess.org/training/gWAim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GwaTi', 'Rapid', 'manzi', 1748, 'MaksimLokshin', 1784, 'd4,d5,c4,e6,a3,Nf6,Nc3,c6,cxd5,cxd5,Bg5,Nbd7,e3,Be7,h3,O-O,Nf3,a6,Bd3,h6,Bh4,Nh7,Bxe7,Qxe7,Bxh7+,Kxh7,O-O,f5,Na4,b5,Nc3,Nb6,b4,Nc4,Nd2,Bb7,Nxc4,dxc4,Qc2,Qg5,g3,Bf3,Ne2,h5,Nf4,h4,Nxe6,Qg6,Nxf8+,Rxf8,Kh2,hxg3+,fxg3,Be4,Qf2,Qd6,Rg1,c3,Qf4,Qxf4,gxf4,c2,Rac1,Rc8,Kg3,Rc3,Ra1,Rxe3+,Kh4,Rd3,Kg5,g6,h4,Bf3,Kf6,Rd1,Rc1,Rxg1,Rxg1', 'Bd1,Rxg6,c1=Q', 'https://lichess.org/training/GwaTi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GWBfL', 'Blitz', 'GM Alexsur81', 2765, 'RupesLC', 2094, 'e4,c5,Nc3,d6,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Qd2,Nf6,f3,O-O,O-O-O,Bd7,g4,Ne5,h4,h5,g5,Ne8,Kb1,b5,Ncxb5,Bxb5,Bxb5,Rb8,Be2,Nc7,b3,Qc8,f4,Ng4,Bxg4,Qxg4,Rhg1,Qd7,f5,Nb5,Nxb5,Qxb5,Bd4,a5,Bxg7,Kxg7,f6+,exf6,gxf6+,Kh7,Rg5,Qb4,Rxh5+,gxh5,Qg5,Rg8', 'Qxh5#', 'https://lichess.org/training/GWBfL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gwbjQ', 'Blitz', 'supitsenko', 1932, 'mertcanaykut426', 1927, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Nc3,e5,Qd3,Nf6,Bg5,Be7,Be2,O-O,O-O,h6,Bh4,Bg4,Bxg4,Nxg4,Bxe7,Qxe7,Nd5,Qd8,f4,Nf6,fxe5,Nxd5,exd5,dxe5,c4,Qd6,Qe4,Qb6+,Kh1,Qxb2,Rab1,Qxa2,Rxb7,Rab8,Re7,Qb2,Rxe5,a5,d6,Qb7,c5,Rfd8,Re7,Qxe4,Rxe4,Rbc8,Rc1,Rxd6,Re8+,Rxe8,cxd6,Rd8,Rc6,a4,Ra6,a3,Kg1,a2,Kf2,Rxd6,Rxa2,Kh7,Re2,Rf6+,Kg3,Rg6+,Kf2,Rc6,Re7,Kg6,Re3,Rc2+,Kf3,Kg5,Re5+,Kg6,Re3,f6,Re4,Kf5,Rf4+,Ke5,Re4+,Kd5,Re8,Rc3+,Kf4,g5+,Kf5,Rc2', 'Rd8+,Kc4,Rc8+,Kb3,Rxc2', 'https://lichess.org/training/gwbjQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gwBmB', 'Blitz', 'FM And_Again', 2488, 'GM S_Guliev', 2478, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e4,Bb4,d3,O-O,a3,Bxc3+,bxc3,d6,Be2,Re8,O-O,a6,Ne1,Rb8,a4,Ne7,f4,exf4,Bxf4,Nd7,Nc2,Ng6,Bg3,Nc5,Ne3,a5,Nf5,Bd7,Qe1,Nxa4,Qf2,Rf8,h4,Nxc3,Bg4,Na4,Qd4,Ne5,Bxe5,dxe5,Qxe5,Bxf5,exf5,Qxh4,Bf3,Rbe8,Qxc7,Qd4+,Kh2,Nc5,f6,Re6,Rxa5,Nxd3,fxg7,Rh6+,Rh5,Rxh5+,Bxh5,Kxg7,Rxf7+,Rxf7,Qxf7+,Kh6,Bf3,Nf4,Kg3,Ng6,Bxb7', 'Qh4+,Kf3,Ne5+', 'https://lichess.org/training/gwBmB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GwBqp', 'Rapid', 'Max_ime', 1751, 'arpetar', 1719, 'e4,e5,Nc3,c6,Nf3,d6,Bc4,Bg4,O-O,Be7,h3,Bh5,Be2,Bxf3,Bxf3,Qd7,d4,Bf6,dxe5,Bxe5,Be3,Bxc3,bxc3,Nh6,c4,O-O,Bxh6,gxh6,Qd2,Kh8,Qxh6,Rg8,e5,Qf5,Rfe1', 'Qxf3,Qf6+,Qxf6', 'https://lichess.org/training/GwBqp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GWc9p', 'Rapid', 'srijinagaraj', 1751, 'hawkmoon62', 1983, 'e4,c6,c3,d5,exd5,cxd5,g3,e6,d4,Nc6,Bb5,Bd7,Nf3,a6,Bf1,Bd6,Bg5,Qb6,b3,h6,Be3,Nf6,Bg2,Rc8,Ne5,Qc7,Bf4,O-O,Qe2,Bxe5,dxe5,Ne8,Qg4,Kh7,Bf1,Rg8,Bd3+,g6,Qh3,h5', 'Qxh5+,Kg7,Qh6#', 'https://lichess.org/training/GWc9p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gWczD', 'Blitz', 'professor_zur', 2126, 'azzouz', 2085, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,c4,c6,b3,d5,Bb2,dxc4,bxc4,Nbd7,d3,Nb6,Nbd2,Bg4,h3,Bxf3,Bxf3,Qd7,Kh2,Ng4+,Bxg4,f5,Bxg7,Kxg7,Bf3,f4,g4,e5,Ne4,Qe7,Rb1,Rad8,a4,Nxc4,Qb3,Na5,Qa2,b6,g5,c5,Nf6,h6,gxh6+,Kxf6,Rg1,Rh8,Rxg6+,Kxg6,Rg1+,Kf6,Rg7,Qe8,Bd5,Rxh6,Rf7+,Kg6,Be4+,Kg5,Rf5+,Kh4,e3,f3,Rxf3,c4,dxc4,Qg8,Qe2,Qxc4', 'Rf4+,exf4,Qg4#', 'https://lichess.org/training/gWczD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GWDst', 'Blitz', 'Krigu777', 2694, 'FM promacherr', 2604, 'd4,d5,Nf3,Nf6,g3,Bf5,Bg2,e6,O-O,Nbd7,Nh4,Bg4,f3,Bh5,g4,Bg6,g5,Nh5,Qe1,Bd6,Nxg6,hxg6,f4,c5,e3,Qb6,c3,f6,h4,e5,dxe5,fxe5,Bxd5,exf4,exf4+,Kd8,Na3,Re8,Nc4', 'Rxe1,Nxb6,Rxf1+', 'https://lichess.org/training/GWDst');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GWEXe', 'Rapid', 'Gavanna', 1655, 'balwinderreehal', 1665, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,a3,a6,Bc4,Bc5,Qe2,b5,Bb3,b4,Na4,Be7,axb4,Bxb4+,Bd2,Bxd2+,Qxd2,Nge7,O-O,O-O,Rac1,Bb7,Qe2,d5,Rfd1,Qa5,exd5,Nxd5,Bxd5,exd5,Nc5,Qc7,Rxd5,Nb4,Rdd1,Rfe8,Nxa6,Bxa6', 'Qxe8+,Rxe8,Rxc7', 'https://lichess.org/training/GWEXe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gWFAX', 'Rapid', 'abhinavsinha', 1582, 'emiliano1w3', 1620, 'e4,e6,e5,d5,d4,c5,c3,a6,Nf3,Nc6,Bg5,Be7,Bxe7,Qxe7,Be2,b5,a3,c4,b4,Nh6,h3,Nf5,O-O,O-O,Nbd2,g6,a4,Ng7,axb5,Nd8,bxa6,Rxa6,Rxa6,Bxa6,Qa4,Qb7,Nb1,Nc6,Na3,Ra8,b5,Bxb5,Qxb5,Qxb5,Nxb5,Ra2,Re1,Na5,Nd6,Nb3,Ng5,Ra7,Bd1,Ra2,Ngxf7,Ra1,Nd8,Rc1,Nb5,Nd2,Nc7,Ne4,Ncxe6,Nxc3,Nc7,Rxd1,Rxd1,Nxd1,e6', 'c3,Nxd5,c2,Nf6+,Kf8', 'https://lichess.org/training/gWFAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gWFIa', 'Blitz', 'IM sherlock1888', 2554, 'kamblefy', 2568, 'd4,e6,c4,f5,g3,Nf6,Bg2,d5,Nf3,c6,O-O,Bd6,b3,Qe7,a4,O-O,a5,Na6,Ba3,Bd7,Qc1,Be8,Bxd6,Qxd6,Qa3,Qxa3,Nxa3,Nb4,Ne5,Bh5,Rfe1,Rfd8,e3,b6,Rec1,bxa5,Nc2,Rdb8,Nxb4,Rxb4,Rxa5,Rxb3,Nxc6,a6,cxd5,exd5,Ne7+,Kf7,Nxd5,Ne4,Nc7,Rc8,Rxa6,Kg8,Rac6,Rb2,g4,Bg6,gxf5,Bxf5,R6c2,Rb7,f3,Ng5,e4,Bh3,Bxh3,Nxh3+,Kg2,Nf4+,Kg3,Nd3,Rd1,Nb4,Rb2,Rcxc7,Rdb1,Rc4,d5,Kf7,h4,Kf6,Ra1,Re7,Ra4,Nd3', 'Rb6+,Ke5,Rxc4', 'https://lichess.org/training/gWFIa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gWfPp', 'Blitz', 'NM lauraloveschess', 1939, 'ErmanBaulitz', 1921, 'e4,e5,Nf3,d6,d4,exd4,Bc4,h6,c3,Nf6,O-O,dxc3,Nxc3,Be7,Re1,Bg4,h3,Bh5,Qd3,O-O,Nd5,Nc6,Nxe7+,Nxe7,e5,dxe5,Nxe5,Qxd3,Nxd3,Ned5,Nf4,Nxf4,Bxf4,c6,Re7,b5,Bb3,a5,a4,b4,Rc1,Rac8,Rc7,Rxc7,Bxc7,Rc8,Bxa5,c5,Bxb4,Ne4,Bc3,c4,Bc2,Nd6,Ra1,Kf8,Bb4,Ke7,Re1+,Kd7,Rd1,Bxd1,Bxd1,Rb8,Bc3,g5,a5,Ne4,Be5,Rb5', 'Ba4,Ke6,Bxb5', 'https://lichess.org/training/gWfPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gWgO0', 'Rapid', 'Watchman4', 1734, 'Aleksandr_kar', 1716, 'd4,Nf6,c4,e6,Bg5,h6,Bh4,g5,Bg3,c5,e3,Qa5+,Nc3,cxd4,Qxd4,Bg7,Be5', 'Nc6,Bxf6,Nxd4', 'https://lichess.org/training/gWgO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gwHo1', 'Rapid', 'Nazmi123', 1880, 'DobrinkaCSKA2007', 1836, 'e4,d5,e5,c5,b3,Bf5,Bb2,Nc6,Bb5,a6,Bxc6+,bxc6,h4,e6,g4,Be4,f3,f6,fxe4,fxe5,exd5,Qxd5,Qf3,e4,Qe3,Nf6,Bxf6,gxf6,Nc3,Qe5,O-O-O,f5,g5,c4,d4,Ba3+,Kb1,Qa5,Qd2,Bb4,Rh3,cxb3,cxb3,Rb8,Nge2,Kd7,Qf4,Rb7,Rd2,Bd6,Qf2,Rhb8,Rb2,Ba3,Rc2,Rxb3+,axb3,Rxb3+,Ka2,Bc5+,Kxb3', 'Qa3+,Kc4,Qb4#', 'https://lichess.org/training/gwHo1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GWhsK', 'Classical', 'Kibitzer0', 1870, 'Oracle_dota', 1831, 'd4,Nf6,Bf4,d5,e3,Nc6,Nd2,Bg4,Ngf3,Ne4,Bd3,Nxd2,Qxd2,Bxf3,gxf3,e6,h4,Bb4,c3,Bd6,Bg3,Qf6,Qe2,e5,e4,dxe4,fxe4,O-O,O-O-O,exd4,Bxd6,Qxd6,cxd4,Nxd4,Qe3,Qc6+,Kb1,Ne6,Rhg1,g6,h5,Ng7,Bc2,Rad8,Rde1,Nxh5,f4,Qd6,e5,Qd2,Qxa7,Qxf4,Qxb7,Rd2,e6,fxe6,Bxg6,Ng7,Bc2,Qc4,Rc1,Kh8,Qh1,Nf5,Bxf5,Rxb2+,Kxb2,Rb8+,Ka1', 'Qd4+,Rc3,Qxc3#', 'https://lichess.org/training/GWhsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gwiid', 'Rapid', 'MALENCHU2', 1804, 'HerbAto', 1848, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,Ba6,dxe5,dxe5,Qxd8+,Rxd8,Nxe5,Bc5,Bd2,Ne7,Nc3,f6,Nd3,Bxd3,cxd3,Rxd3,O-O-O,O-O,Na4,Bxf2,Bb4,Be3+,Kb1,Rfd8', 'Rxd3,Rxd3,Bxe7', 'https://lichess.org/training/gwiid');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gwjci', 'Blitz', 'kucharz', 1865, 'succubusqeen432', 1852, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Bd7,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nc3,Qb6,a4,a5,Nb5,f6,Be3,Qd8,Qh5+,g6,Qxg6+,hxg6', 'Bxg6+,Ke7,Bc5#', 'https://lichess.org/training/Gwjci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gWKNq', 'Rapid', 'IgoreckG17M', 1705, 'dmoskowitz', 1607, 'e4,e5,f4,d5,exd5,Qxd5,Nf3,Qe4+,Be2,Bc5,Nc3,Qxf4,d4,Qg4,dxc5,Qxg2,Rf1,Nc6,Nd5,Rb8,Nxc7+,Kf8,Qd6+,Nge7,Bh6,Bf5,Bxg7+,Qxg7,O-O-O,Rd8', 'Qxd8+,Nxd8,Rxd8#', 'https://lichess.org/training/gWKNq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GwmNo', 'Classical', 'Muratyukse', 1940, 'SniperHeat01', 1945, 'e4,d5,e5,f6,f4,fxe5,fxe5,Bf5,d4,e6,Nf3,c5,Bb5+,Nd7,O-O,a6,Bxd7+,Qxd7,Nh4,Be4,Nc3,O-O-O,Nxe4,dxe4,Bg5,Qxd4+', 'Qxd4,cxd4,Bxd8', 'https://lichess.org/training/GwmNo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GwMz6', 'Rapid', 'potreno', 1855, 'stanislav1985', 1841, 'b3,f5,Bb2,Nf6,e3,d6,c4,c5,d3,Nc6,Be2,g6,Nd2,Bg7,Rb1,O-O,Ngf3,Nb4,a3,Nc6,O-O,e5,h3,a5,Re1,Bd7,Nh2,b6,g4,Qc8,g5,Ne8,f4,e4,Ndf1,Bxb2,Rxb2,Ng7,Ng3,Be8,d4,cxd4,exd4,a4,bxa4,Bf7,d5,Na5,Rxb6,Nxc4,Bxc4,Qxc4,Rxd6,Rxa4,Nhf1,Rxa3,Rd7,Rd3,Qc1,Qd4+,Ne3,Qc3,Kf2,Rd2+,Ne2,Qxc1,Rxc1,Nh5,Ke1,Rd3,Kf2,Rb8,Rcc7,Rf8,d6,Ng7,Rc6', 'Be8,Rxg7+,Kxg7', 'https://lichess.org/training/GwMz6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gwpEI', 'Blitz', 'axmerk', 1731, 'sanilrc', 1623, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Be3,d6,Qf3,O-O,O-O-O,Bg4,Qg3,Bxd1,Bxh6,Nh5,Qg6,Ne5,Ne6,fxe6,Bxe6+,Kh8', 'Bxg7+,Nxg7,Qh6#', 'https://lichess.org/training/gwpEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gWQBm', 'Classical', 'Bunny2009', 1801, 'Eleanor-Rigby', 1833, 'e4,Nf6,Nc3,d5,e5,d4,exf6,dxc3,fxe7,cxd2+,Bxd2,Bxe7,Nf3,O-O,Bc4,Bg4,O-O,Bxf3,gxf3,Nc6,Bf4,Qd4,Qxd4,Nxd4,Bd5,c6,Be4,f5,Bd3,Nxf3+,Kg2,Nh4+,Kh1,Nf3,Rad1,Rad8,Bc7,Rd5,Bc4,Rc8,Bg3,Bf6,Bxd5+,cxd5,Rxd5,Rxc2,Rxf5,Nd2,Rg1,Ne4,Bf4,Nxf2+,Kg2,Bd4,Kf3,Nh3,Rd1,Ng1+,Ke4,Bb6,Be3,Re2,Rd3,Re1,a3,h6,Rfd5,Nh3,Kf3,Ng1+,Bxg1,Bxg1,Rd8+,Kh7,R8d7,Bxh2,Rxb7,a5,Rdd7,Be5,Re7,Kg6,Rb6+,Kf5,Rb5,g5,Rxa5,g4+,Kf2,Re4,b4,h5,b5', 'Bd4+,Kf1,Rxe7', 'https://lichess.org/training/gWQBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gWQT8', 'Blitz', 'dhiman_vaibhav', 1696, 'Nelfunkel', 1681, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nxc6,bxc6,Nc3,Nf6,Bc4,g6,Bg5,Bg7,Bxf6,Bxf6,O-O,O-O,f4,Rb8,f5,Rxb2,Na4,Rb4,Bb3,Bxa1,Qxa1,Ba6,Rf3,Rxe4,Rg3,Re8,fxg6,hxg6', 'Rxg6+,Kh7,Qg7#', 'https://lichess.org/training/gWQT8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GWTeU', 'Rapid', 'vsvale', 1862, 'alekhinos', 1865, 'e4,e6,Nf3,d5,exd5,exd5,d4,h6,Bb5+,c6,Ba4,Bd6,Nc3,Nf6,Be3,Bg4,h3,Bh5,g4,Bg6,Qd2,Ne4,Nxe4,dxe4,Ne5,Bxe5,dxe5,Qxd2+,Bxd2,Na6,O-O-O,Nc5,Bb3,Nxb3+,axb3,O-O-O,Rhf1,Rhe8,Bc3,Rxd1+,Kxd1,Rd8+,Ke2,Rd5,f3,exf3+,Rxf3,Kd7,e6+,Kxe6,Bxg7,Bxc2,Bxh6', 'Bd1+,Kf2,Bxf3', 'https://lichess.org/training/GWTeU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gWTwc', 'Rapid', 'kimuraal', 1804, 'Achensee1', 1608, 'd4,e6,c4,d5,Nc3,dxc4,e4,Bb4,Bxc4,Bxc3+,bxc3,a5,f4,b6,Nf3,Ba6,Qe2,Bxc4,Qxc4,Nf6,Qe2,O-O,O-O,Nc6,e5,Nd5,Bd2,a4,Rac1,Nce7,c4,c6,cxd5,cxd5,Rc3,Nf5,Rd3,b5,Ng5,h6,Rh3,hxg5,fxg5,f6,Rxf5,exf5,g6,Re8,Rh8+,Kxh8,Qh5+,Kg8,Qh7+,Kf8,Qh8+,Ke7', 'Qxg7+,Ke6,Qf7#', 'https://lichess.org/training/gWTwc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GWUFN', 'Classical', 'ZucchiniMadjija', 1718, 'Bocian0161', 1798, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,c6,d4,b5,Bb3,Bf5,Bd2,Qb6,Qf3,e6,Nge2,Nf6,O-O,Be7,Be3,Qb7,Ng3,Bg6,Nce4,Nxe4,Nxe4,O-O,Bf4,Qd7,c3,a5,Bc2,a4,Qe2,h6,Nc5,Bxc5,dxc5,Bxc2,Qxc2,Qe7,Be3,Nd7,Qe4,Rac8,Qg4,Qf6,Rad1,Rfd8,Bd4,Qg6,Qxg6,fxg6,Rfe1,e5,Be3,Kf7,b4,Kf6,Rd6+,Kf5,Red1,Rc7,f3,g5,Kf2,e4,fxe4+,Kxe4,Re6+,Kf5,Rdd6,Rdc8,Re7,Nf6,Rxc7,Rxc7,Kf3,Nd5', 'g4+,Ke5,Bd4#', 'https://lichess.org/training/GWUFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gwuMl', 'Rapid', 'SKYYR', 2075, 'IM kassablanca', 2468, 'd4,e6,c4,d5,Nf3,Nf6,Bg5,Be7,e3,h6,Bh4,O-O,Nc3,Nbd7,Bd3,b6,cxd5,exd5,O-O,Bb7,Nd2,c5,Bf5,Re8,a3,a6,Ne2,c4,a4,b5,Bg3,b4,Nf3,Nh5,Be5,Nhf6,a5,Bf8,Qa4,Rc8,h4,Bc6,Qc2,Bb5,Bxf6,Qxf6,Nf4,Qd6,Ne5,Rcd8', 'Bh7+,Kh8,Nxf7#', 'https://lichess.org/training/gwuMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GwvJ7', 'Classical', 'Pugdini_2', 1951, 'lustacapulco', 1859, 'e4,c5,Nc3,e5,Bc4,Nf6,f4,d6,fxe5,dxe5,Nf3,Bg4,O-O,Nc6,Qe1,Bxf3,gxf3,Bd6,d3,O-O,Bg5,Nd4,Rc1,Ne6,Bxe6,fxe6,f4,exf4', 'e5,Bxe5,Qxe5,Qd4+,Qxd4', 'https://lichess.org/training/GwvJ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gwWK5', 'Blitz', 'SC1556', 1693, 'IvanBarrientos', 1745, 'e4,e6,f4,d5,exd5,Qxd5,Nf3,Nf6,d4,Be7,c4,Bb4+,Bd2,Qe4+,Kf2,Ng4+,Kg3,Bxd2,Qxd2,e5,Nc3,exf4+,Qxf4,Qxf4+,Kxf4,O-O,Nd5,Nc6,h3,Nh6,g4,f6,Nxc7,Rb8,d5,Ne5,Nxe5,fxe5+,Kg3,Bd7,c5,Rf4,Bb5,Bxb5,Nxb5,Rbf8,d6,Rf3+,Kh4,Nf7,Rhf1', 'g5+,Kh5,Rxh3#', 'https://lichess.org/training/gwWK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GwWTf', 'Rapid', 'Gambit6666', 1736, 'nishantmaske79', 1733, 'c4,Nc6,e4,d6,Nf3,Nf6,Nc3,e6,d4,Be7,d5,exd5,exd5,Ne5,Nxe5,dxe5,Be2,Bb4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/GwWTf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gWxhx', 'Classical', 'MrScribbler', 2002, 'yan59', 1677, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,Nc6,c3,g6,Bd3,Bg7', 'Bg5,Qe7,Bxe7', 'https://lichess.org/training/gWxhx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GWxVM', 'Blitz', 'user1440', 1576, 'ingend', 1550, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Bd6,d3,Bg4,h3,Bh5,g4,Bg6,Bg5,f6,Be3,Qd7,Rg1,Ne7,h4,O-O-O,h5,Bf7,Qd2,c5,O-O-O,c4,dxc4,Bxc4,g5,f5,exf5,Nxf5,b3,Bb5,Nxb5,Qxb5,Kb1,Ba3,Qc3,Rxd1+,Rxd1,Qe2,Qd3,Qxf3', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/GWxVM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GwYHO', 'Blitz', 'FM speshu', 2345, 'MiqoManukyan2001', 1936, 'Nf3,d5,c4,c5,cxd5,Qxd5,d4,Qd8,Nc3,cxd4,Qxd4,Qxd4,Nxd4,Nf6,Ndb5,Na6,e4,Bd7,Be3,e6,f3,Bb4,Nxa7,O-O,Nb5,Bxb5,Bxb5,Bxc3+,bxc3,Rfc8,Bd4,Nc5,Ke2,Na4,Rac1,Nb2,Rc2,Nc4,a4,Na5,Rb1,Ne8,Bb6,Nd6,Bd3,Nac4,Rb4,Nxb6,Rxb6,Nc4,Rb4,Nd6,e5,Nf5,Bxf5,exf5,f4,g6,Rd2,Rxc3,Rxb7,Rxa4,e6,Re4+,Kd1,fxe6', 'Rd8#', 'https://lichess.org/training/GwYHO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gwZxM', 'Blitz', 'Hayk177', 2240, 'WFM The_Princess_Moon', 2272, 'e4,c5,d4,a6,Nf3,cxd4,c3,Nf6,e5,Nd5,Qxd4,e6,c4,Nc6,Qe4,Bb4+,Bd2,Bxd2+,Nbxd2,Nc7,Bd3,g6,h4,d5,exd6,Qxd6,h5,Bd7,O-O-O,O-O-O,Nb3,Qb4,Ne5,Nxe5,Qxe5,Bc6,f3,a5,hxg6,fxg6,Qxa5,Qe7,Qc5,Rd6,Na5,Rhd8,Nxc6,bxc6,Kc2,Kb7,Qb4+,Kc8,c5,Rxd3,Rxd3,Rxd3,Kxd3,Nb5,Rd1,Qg5,g4,Qd5+,Kc2,Qxf3,a4,Nc7,a5,Nd5,Qa4,Ne3+,Kd2,Qxd1+', 'Qxd1,Nxd1,Kxd1,h5,gxh5', 'https://lichess.org/training/gwZxM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gX0Fq', 'Blitz', 'Pantaneiro', 1785, 'DEARG-DUE', 2136, 'd4,e5,dxe5,Nc6,Nf3,Qe7,e3,g6,Bb5,Bg7,Bxc6,bxc6,O-O,h5,e4,Ba6,Re1,Bxe5,Nxe5,Qxe5,Nc3,Ne7,f4,Qg7,Be3,Rg8,e5,Nf5,Bf2,d5,exd6+,Kd7,dxc7+,Kxc7,Qf3,Rge8,Rxe8,Rxe8,Bxa7,Qf8,Ne4,Qb4,Nc5,Re1+,Kf2,Re2+,Kg1,Qe1+,Rxe1', 'Rxe1+,Kf2,Rf1#', 'https://lichess.org/training/gX0Fq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gx26V', 'Rapid', 'DrManolis', 1884, 'firstawahono', 1858, 'd4,d5,c4,c6,e3,Nf6,Nc3,e6,a3,Nbd7,b4,Be7,Bb2,O-O,Nf3,dxc4,Bxc4,b5,Bd3,a5,bxa5,Qxa5,Qc1,Nd5,O-O,Bb7,Nxd5,cxd5,Bc3,Qa4,Qb1,Bc6,Bxh7+,Kh8,Bc2,Qc4,Qb2,Rfb8,Nd2,Qe2,Rfe1,Qh5,Bb4,Bf6,Bd6,Rb7,Nf3,Nb6,Ne5,Nc4,Nxc4,bxc4,Qc3,Ba4,Reb1,Rxb1+,Rxb1,Qe2,Bxa4,Rxa4,h3,Kh7,Rb2,Qd1+,Kh2,Bd8,Rb7,Ba5,Bb4,Qb1,Rxf7,Bxb4,axb4,Rxb4,Re7,Rb3,Qa5,Qg6,Qa6,c3,Rxe6,Qf5,Rd6,c2,Qc6,Rb1,Rxd5,Qxd5', 'Qxc2+,Kg8,Qxb1', 'https://lichess.org/training/gx26V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gx3bn', 'Rapid', 'palobiely', 1688, 'Triphil31', 1715, 'c4,e5,Nc3,Nc6,Nf3,Nf6,d3,d5,cxd5,Nxd5,g3,Bb4,Bd2,O-O,Bg2,Nxc3,bxc3,Bc5,O-O,Bg4,Qa4,f5,Qb3+,Kh8,Qxb7,Ne7,Nxe5,Qe8,Nxg4,fxg4,Qxc7,Rc8,Qe5,h5,d4,Bb6,Bh6,Qg6,Be3,Nf5,Be4,Rxc3,Bxf5,Qxf5,Qxf5,Rxf5,a4,Rc2,a5,Bd8,Rab1,Bxa5,Rb8+,Kh7,Rb7,Bb6,Rc1,Rxc1+,Bxc1,Bxd4,e3,Bb6,Bb2,Rg5,Kg2,Rg6,h3,gxh3+,Kxh3,a5,Kh4,Bd8+,Kxh5', 'Rg5+,Kh4,Rb5+,Kh3,Rxb7', 'https://lichess.org/training/gx3bn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gX3Rp', 'Rapid', 'Zzouheir', 1737, 'slysnake', 1655, 'e4,c5,f4,d6,Nf3,g6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Bg7,c3,Ngf6,Re1,Nb6,d4,cxd4,cxd4,O-O,e5,dxe5,fxe5,Nfd7,b3,Rc8,Bb2,e6,Nc3,a6,Ne4,Nd5,Nd6,Rc7,Rc1,b5,Qd2,f6,Rxc7,Qxc7,Rc1,Qb6,Ne4,fxe5,Nc5,Nxc5,dxc5,Qc7,Ng5,Bh6,h4,Rd8,Qe2,Bxg5,hxg5,Nf4,Qxe5', 'Qxe5,Bxe5,Ne2+,Kf2,Nxc1', 'https://lichess.org/training/gX3Rp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GX5Ia', 'Rapid', 'mrKori', 1914, 'sibiscuit68', 1844, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Ng5,d5,exd5,Nd4,d6,Qxd6,Nxf7,Qc6,Nxe5,Qxg2,Rf1,Bg4,Nxg4,Nxg4,Nc3,Nxh2,Qh5+,g6', 'Qe5+,Kd7,Qxd4+', 'https://lichess.org/training/GX5Ia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gx5OD', 'Blitz', 'Georgy5555', 1647, 'FM Yuriy1980', 2187, 'd4,c5,d5,b5,e4,a6,Nf3,d6,Be3,Nf6,Nbd2,g6,a3,Bg7,c4,bxc4,Bxc4,O-O,Rb1,Nbd7,O-O,Ng4,h3,Nge5,Ba2,Nxf3+,Nxf3,Rb8,Bd2,Bxb2,Qc2,Bxa3,Rxb8,Nxb8,Bh6,Bb4,Bxf8,Qxf8,Ng5,h6,Nf3,Nd7,Nd2,a5,Nb1,Ba6,Rc1,Ne5,Nc3,Nd3,Rd1,Ne5,Bb3,Qg7,Na2,Nd7,Nxb4,axb4,Bc4,Bxc4,Qxc4,Ne5,Qa2,Qf8,Ra1,Kg7,Qa8,b3,Qxf8+', 'Kxf8,Ra8+,Kg7,Rb8,c4', 'https://lichess.org/training/gx5OD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GX7n2', 'Rapid', 'HugoChavez2003', 2099, 'sukurovergas', 2012, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,a3,Be7,Nc3,Nf6,Be2,O-O,Nb3,d5,exd5,exd5,Nd4,Bc5,Be3,Re8', 'Nxc6,bxc6,Bxc5', 'https://lichess.org/training/GX7n2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GxANc', 'Rapid', 'Harav-Shach', 1917, 'taimanov17', 1873, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Nc6,Bb5,Bd6,Qe2+,Be6,Bxc6+,bxc6,O-O,O-O,Ne5,Re8,Nxc6,Qd7,Ne5,Bxe5,dxe5,d4,exf6,dxc3,bxc3,Qc6,f3', 'Bc4,Qf2,Bxf1', 'https://lichess.org/training/GxANc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gXAp0', 'Rapid', 'MuratPolatozkan1', 1833, 'apis16', 1818, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qa4,g6,Nc3,Bg7,Nf3,e6,Be3,Nge7,O-O-O,O-O,g4,a6,h4,b5,Nxb5,Bb7,Nd6,Qc7,Nxb7,Qxb7,h5,Qxb2+,Kd2,Qc3+,Ke2,Nb4,hxg6,Nxg6,Bg2,Qxc2+,Qxc2,Nxc2,Rxd7,Nxe3,Kxe3,Rfd8,Rc7,h6,g5,hxg5,Nxg5,Bd4+,Kf3,e5,Nxf7', 'Rf8,Kg4,Rxf7,Rxf7,Kxf7', 'https://lichess.org/training/gXAp0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gXC5U', 'Classical', 'Govindram', 1645, 'qu1qu3', 1726, 'e4,e5,Nf3,Nf6,Nc3,Bb4,d3,d6,h3,Nc6,Bd2,Be6,Ng5,Nd4,a3,Ba5,b4,Bb6,Na4,O-O,Nxb6,axb6,c3', 'Bb3,Qc1,Nc2+', 'https://lichess.org/training/gXC5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GXcVT', 'Classical', 'maelan19', 1637, 'tmp9', 1621, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bc4,Qc7,Bb3,Nf6,Nc3,Bb4,Qd3,Bxc3+,bxc3,Nc6,O-O,O-O,Bg5,Ng4,g3,h6,Bf4,e5,Nxc6,dxc6,Be3,Rd8,Qe2,Nf6,Qf3,Bg4,Qg2,Qa5,c4,Qc3,h3,Bh5,g4,Bg6,Rad1,Bxe4,Qg3,Bxc2,Bxc2', 'Qxc2,Rxd8+,Rxd8', 'https://lichess.org/training/GXcVT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GXd7j', 'Rapid', 'dukonski', 1674, 'argoscacchi', 1653, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,e4,f3,Bd7,fxe4,dxe4,Bxc6,Bxc6,Qg4,Nf6,Qf4,Bd6,Bxf6,Bxf4,Bxd8,Rxd8,exf4,O-O,Ne2,e3,dxe3,Bxg2,Rg1,Bf3,Nd2,Bh5,Ng3,Bg4,Rh1,Rfe8,Nde4,Bf3,Nf6+,gxf6,Rg1,Kh8,Nf5,Be4,Nh6,Bg6,Rxg6,Rxe3+,Kf2,Re7,Rxf6,Rd2+,Kf3,Rxh2,Rg1,Rh3+,Rg3,Rxg3+,Kxg3,Kg7,Ng4,h5,Rf5,hxg4,Kxg4,Re2,Rc5,c6,a4,Re6,a5,Kg6', 'f5+,Kf6,fxe6', 'https://lichess.org/training/GXd7j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gxDBN', 'Blitz', 'Lexman661', 2008, 'ge0rge49', 1976, 'b3,f5,Bb2,Nf6,e3,g6,Nf3,Bg7,d4,c5,Bd3,cxd4,exd4,O-O,O-O,d6,Re1,Nc6,c4,Qc7,Nbd2,Nb4,Bb1,Re8,a3,Nc6,Ba2,Kh8,b4,a6,c5,d5,Ng5,Qf4,Ne6,Bxe6,Rxe6,Ng4,Nf3,Rad8,Qe2,Nxd4,Nxd4', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/gxDBN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gxdEM', 'Rapid', 'JuandeUruguay', 1692, 'Muanza7', 1678, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Be7,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,h6,Nge4,O-O,Qf3,Nd5,Nxd5,cxd5,Nc3,f5,Qxd5+,Qxd5,Nxd5,Bd6,b4,Bb7,Ne3,e4,Be2,Nc6,b5,Ne5,O-O,Rac8,c4,f4,Nd5,f3,gxf3,exf3,Bd1,Nxc4,Ne3,Nxe3,dxe3,Kh8,Bb2,Rf5,h4,Rh5,Bb3,Rxh4,Rfd1,Rc5,Rxd6', 'Rg5+,Kf1,Rh1#', 'https://lichess.org/training/gxdEM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gxdG0', 'Classical', 'w4bieniawski', 1947, 'Normc44', 1840, 'Nf3,d5,e4,d4,Bc4,Nf6,Ng5,e6,e5,Nfd7,f4,h6,Ne4,c5,d3,Be7,Qg4,Rg8,Nbd2,Nb6,Bb3,Nc6,a4,a5,Nc4,Nxc4,Bxc4,Bd7,Bd2,Nb4,Bxb4,axb4,b3,b5,Bxe6,Bxe6,f5,Bd5,f6,Bf8,fxg7,Rxg7,Nd6+,Ke7', 'Nf5+,Kd7,Nxg7+', 'https://lichess.org/training/gxdG0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gXdh9', 'Blitz', 'Dutrachess10', 1839, 'NM sergiojovelino', 2080, 'd4,Nf6,c4,c5,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,cxd4,Nxd4,Nc6,Nc3,a6,Bf4,Qa5,Nb3,Qb4,Rc1,Qb6,c5,Qd8,e4,h6,e5,Nh5,Re1,Nxf4,gxf4,b6,cxb6,Qxb6,Nd5,Qd8,Nc5,Rb8,b3,g5,fxg5,hxg5,Qg4,d6,Ne6,Bxe6,Qxg5,Nxe5', 'Nxe7+,Qxe7,Qxe7', 'https://lichess.org/training/gXdh9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gxeVM', 'Classical', 'Pavelkossenko51', 1687, 'win_21', 1699, 'd4,Nf6,h3,e6,Bf4,d5,Nf3,Bd7,e3,Nc6,a3,a6,c4,Be7,c5,Ne4,Nbd2,f5,Nxe4,dxe4,Ne5,Nxe5,Bxe5,O-O,g4,fxg4,Qxg4,Bf6,Bf4', 'e5,Bc4+,Kh8', 'https://lichess.org/training/gxeVM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GxG2I', 'Classical', 'Turkeyisnotabird', 1690, 'invachess90', 1809, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Qe7,e3,Ngxe5,Be2,O-O,O-O,Bxc3,bxc3,Nxf3+,Bxf3,Ne5,Bxe5,Qxe5,Qb3,c6,Rfd1,Re8,Rac1,a6,a4,b5,cxb5,axb5,axb5,Qxb5', 'Qxb5,cxb5,Bxa8', 'https://lichess.org/training/GxG2I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GXG9I', 'Rapid', 'vinnithepooh', 1963, 'tf235', 1862, 'c4,e5,Nc3,Nf6,e3,Bc5,g3,d5,cxd5,Nxd5,Bg2,Nxc3,bxc3,Nc6,Ne2,Bd7,O-O,O-O,d4,exd4,cxd4,Bd6,Bb2,Ne7,Bxb7', 'Rb8,Bg2,Rxb2', 'https://lichess.org/training/GXG9I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GxgcE', 'Rapid', 'StairwayToTugi', 1841, 'Corvi-Knight', 1994, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Be3,g6,h3,Bg7,Nxc6,bxc6,c3,Nf6,Bd3,Bb7,Nd2,c5,O-O,c4,Qa4+,Kf8,Qxc4,Rc8,Qb3,Rb8,Qc2,e5,Bxa7,Rc8,Rfe1,Ke7,Qb3,Qd7,Bb6,Rhe8,Bb5,Bc6,Bxc6,Qxc6,Ba5,Kf8,Qc2,d5,exd5,Nxd5,Qe4,Qc5,c4,Nf6,Nb3', 'Nxe4,Nxc5,Nxc5', 'https://lichess.org/training/GxgcE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GXGqC', 'Blitz', 'mileAdam', 1782, 'dorhinj1', 1603, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Bd2,Be7,Nc3,O-O,Bc4,Re8,O-O-O,a6,a3,b5,Ba2,b4,Nb1,bxa3,Nxa3,Rb8,Bc3,Bxa3,bxa3,Nxe4,Qf3,Qg5+,Bd2,Nxd2', 'Qxf7+,Kh8,Qxe8#', 'https://lichess.org/training/GXGqC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gxGSx', 'Rapid', 'DrunkandHighChess', 1908, 'Khozam', 1972, 'e4,g6,Nf3,Bg7,Bc4,d6,Ng5,e6,d4,c6,Qf3,Nf6,e5,dxe5,dxe5,Qa5+,Nc3,Qxe5+,Be3,O-O,O-O-O,h6,h4,hxg5,hxg5,Nd5,Bxd5,cxd5,Qh3,Re8,Qh7+,Kf8,Bc5+,Re7,Kb1,Nd7,Bd4,Qxd4,Rxd4,Bxd4,Qh4,Bg7,Qf4,d4,Ne4,e5,Qf3,Rb8,Rh6,Re6,Qh3,Kg8,Rh7,Nf8,Rxg7+,Kxg7,Qh6+,Kg8,Nf6+,Rxf6,gxf6,Ne6,g3,Bd7,f4,exf4,gxf4,b5,f5,gxf5,Qh2,Rb6,Qg2+,Kf8', 'Qa8+,Be8,Qxa7,Kg8,Qxb6', 'https://lichess.org/training/gxGSx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gxhKp', 'Classical', 'Hayk250406', 1739, 'huijarimoottori', 1884, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Nc6,Bd3,Bg4,Be2,Ne4,h3,Bh5,Be3,Bb4,Bd2,O-O,a3,Ba5,b4,Bb6,a4,Bxd4', 'Nxd4,Nxd4,Bxh5', 'https://lichess.org/training/gxhKp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gXhPn', 'Blitz', 'srdjan123', 1519, 'MaVRaNT', 1501, 'g3,g6,c3,Bg7,Bg2,Nf6,Qb3,Nc6,d4,d5,Bg5,O-O,Bxf6,Bxf6,Bxd5,Na5,Qb5,c6,Bxf7+,Rxf7,Qd3,Bf5,e4,Bh3,Qf3,Bd7,e5,Bg7,Qe3,Nc4,Qe2,b5,e6,Bxe6,Qxe6,Nxb2,Qxc6,Nd3+,Kd1,Nxf2+,Kc2,Nxh1,Qxh1,Qd7,Qxa8+,Rf8,Qe4,Rf2+,Kb3,Rxh2,Na3,a5,Re1', 'a4+,Kb4,Rb2+,Kc5,Qd6#', 'https://lichess.org/training/gXhPn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GxiNS', 'Rapid', 'GolfgutS', 1960, 'x0404', 1914, 'd4,d6,c4,Nf6,Nc3,h6,e4,c6,f3,e5,dxe5,dxe5,Qxd8+,Kxd8,Be3,Bb4,O-O-O+,Kc7,Kc2,Be6,g4,Nbd7,Nh3,Bc5,Bxc5,Nxc5,Be2,Rad8,Nf2,a6,h4,Nfd7,b4,Rb8,bxc5,Nxc5,Nd3,Nd7,c5,f6,a4,Bc4,Rd2,Bxd3+,Bxd3,Nxc5,Bc4,b5,axb5,axb5,Bb3,Rbd8,Rhd1,Rd4,Rxd4,exd4,Rxd4,Re8,Ne2,Na6,Nf4,Re7,h5,Kb6,Rd6,Kc5,Re6,Rd7,Nd3+,Kb6,f4,Kc7,g5,fxg5,fxg5,hxg5,Rg6,Re7,e5,Kb7,Rxg5,c5,Bd5+,Kb6,Rg6+,Ka5,Re6,Rc7,Rc6,Re7,e6,c4,Nc5', 'Nb4+,Kc3,Nxc6', 'https://lichess.org/training/GxiNS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gXJWg', 'Blitz', 'Simakoff', 2144, 'Danchik42rus', 2134, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Nb3,d6,Be2,O-O,O-O,Bd7,f4,a6,a4,Na5,Nxa5,Qxa5,Bf3,Bc6,Nd5,Bxd5,exd5,Qb4,Ra2,Rac8,c3,Qc4,Ra3,b5,axb5,axb5,Qb3,Ra8,Qxc4,bxc4,Rfa1,Rxa3,Rxa3,Rb8,Ra2,Nd7,Be2,Nb6,Bxb6,Rxb6,Bxc4,Rb8,Kf2,Bf6,Ke3,Kg7,Kd3,h6,b4,g5,fxg5,Bxg5,b5,f5,Kc2,Kf6,Kb3,Be3,Re2,Bc5,Re6+,Kf7,Rxh6,Rg8,Bf1,Bg1,c4,f4,h3,Be3,Re6,Ke8,Re4,Rg3,Kb4', 'Bc5+,Ka5,Ra3#', 'https://lichess.org/training/gXJWg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GxmCS', 'Rapid', 'TheAndromeda', 1745, 'ladimal_tawau', 2173, 'e4,e5,d4,d6,dxe5,Nd7,exd6,Bxd6,Nc3,Ngf6,f4,Bb4,Bd3,O-O,Nf3,c6,O-O,Qb6+,Kh1,Ng4,Qe2,Nc5,h3,Nxd3,cxd3,Nf6,Be3,Qc7,a3,Be7,Rac1,a6,e5,Nh5,Qf2,Qd7,g4,Qxd3,gxh5,Bxh3,Rfd1,Qf5,Ng5,Bxg5,fxg5,Qxe5,Bc5,Rfe8,g6,fxg6,hxg6,hxg6,Re1,Qh5,b4,Red8,Re7,Rd3', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/GxmCS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GxMdQ', 'Classical', 'kani200237', 1685, 'LaskersBishop', 1838, 'd4,Nf6,Nf3,e6,c4,d5,e3,Be7,Nc3,O-O,Bd3,b6,O-O,Ba6,cxd5,Bxd3,Qxd3,exd5,Re1,Nc6,e4,Nb4,Qd2,dxe4,Nxe4,Nxe4,Rxe4,c5,a3,Nd5,dxc5,Bxc5,b4,Be7,Bb2,Nf6,Qxd8,Bxd8,Re2,Bc7,g3,Rfe8,Rae1,Rxe2,Rxe2,a5,b5,Bd6,a4,Bc5,Ne5,Rd8,Nc6,Rd1+,Kg2,h5,Bxf6,gxf6,h4,Ra1,Re4,Ra2,Rf4,Kg7,Nb8', 'Bd6,Rc4,Bxb8', 'https://lichess.org/training/GxMdQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GxMpd', 'Rapid', 'JBRS', 1743, 'ger0202', 1802, 'e4,e5,d4,exd4,Nf3,Bc5,Bc4,h6,c3,dxc3,Bxf7+,Kf8,Ne5,Ne7,Qb3,d6,Ng6+,Nxg6,Bxg6,Qf6,Bf5,Nc6,Nxc3,Nd4,Qd1,Bxf5,exf5,Qxf5,O-O,Re8,Be3,Nc2,Rc1,Nxe3', 'fxe3,Bxe3+,Kh1', 'https://lichess.org/training/GxMpd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gXNCq', 'Rapid', 'motelvoid', 1744, 'vitorleal', 1856, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bb5+,Bd7,Qe2,Qb6,a4,a6,Bxd7+,Nbxd7,O-O,e6,Be3,Be7,c4,dxc4,Qxc4,Qxb2,Nbd2,Qb4,Rab1,Qxc4,Nxc4,Rb8,Bf4,Rc8,Rfc1,b6', 'Nd6+,Bxd6,Rxc8+', 'https://lichess.org/training/gXNCq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gxNHT', 'Blitz', 'DangerBeker', 1708, 'nicolauarcas', 1521, 'd4,g6,Nf3,Bg7,e4,Nc6,Nc3,d6,Be2,Bg4,O-O,Bxf3,Bxf3,Nxd4,Be3,Nxf3+,Qxf3,Nf6,e5,dxe5,Qxb7,Rb8,Qxa7,Rxb2,Rfd1,Qc8,Qa4+,c6,Rab1,Rxb1,Rxb1,O-O,h3,Qf5,Qxc6,Rc8,Qf3,Rxc3,Qxf5', 'gxf5,Rb8+,Bf8,Bh6,Nd7', 'https://lichess.org/training/gxNHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GXo24', 'Blitz', 'Coro22', 1810, 'TheRowan', 1824, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,d5,Nf3,O-O,Bd3,dxc4,Bxc4,Ne4,Qc2,f5,O-O,Bxc3,bxc3,Qe7,a4,Qf6,h3,a5,Ne5,Nd7,Nd3,Nb6,Ba2,Nd7,Ba3,Re8,Rfb1,b6,c4,Ba6,Bb2,Qg6,Nf4,Qh6,c5,bxc5,Nd3,Bxd3,Qxd3,cxd4,Bxd4,Qh4,Rb2,Ndf6,Rab1,Rad8,Qb5,Rb8,Qc6,Rxb2,Rxb2,Kf7,Qxc7+,Kg6,Qe5,Rc8,Bxe6', 'Rc1+,Kh2,Ng4#', 'https://lichess.org/training/GXo24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gxOaF', 'Blitz', 'muebom', 2024, 'FM jeffforever', 2484, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be2,e5,Nb3,Be7,O-O,O-O,Be3,Be6,Kh1,a5,Nd5,Nxe4,Nxe7+,Qxe7,Bd3,f5,Nd2,Nf6,Bg5,h6,Bxf6,Rxf6,Bc4,d5,Bb5,Qc5,a4,d4,c3,Rd8,b4,axb4,cxb4,Nxb4,Rc1,Qe7,Nf3,Bd5,Re1,Re6,Qd2,Bxf3,gxf3,Nd5,Bc4,Kh8,Qa2,Nc3,Rxc3,dxc3,Bxe6,c2,Bxf5', 'Rd1,Qxc2,Rxe1+', 'https://lichess.org/training/gxOaF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GXsJ9', 'Rapid', 'mattaschaffer', 1671, 'Mr_Neon', 1703, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,Re1,Na5,b3,Nxc4,bxc4,d6,c3,Bg4,Ba3,c5,h3,Bh5,Nbd2,Qa5,Qc2,Qxa3,d4,exd4,cxd4,Bxf3,Nxf3,cxd4,Nxd4,d5,e5,Nh5,cxd5,Rfc8,Qf5,g6,Qf3,Qc5,Rad1,Bg5,e6,f5,Nxf5,gxf5,Qxf5,h6', 'Qf7+,Kh8,Qxh5', 'https://lichess.org/training/GXsJ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gxuUh', 'Rapid', 'wooobeee', 1613, 'Chenzo2017', 1728, 'd4,c6,e4,d5,e5,e6,a3,Nh6,Bxh6,gxh6,c4,h5,Qxh5,Nd7,Nf3,c5,cxd5,cxd4,Nxd4,Qa5+,Nd2,Qxd5,N4f3,Nxe5,Nxe5,a6,Nxf7,Qxh5,Nxh8,Qe5+,Be2,Qxb2,Rd1,Bxa3,Bh5+,Ke7,Nf7,Qb5,Be2,Qf5,Nh6,Qg5,Ng4,e5,Ne4,Qf4,Nef6,Bxg4', 'Nd5+,Kf8,Nxf4', 'https://lichess.org/training/gxuUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GxWPp', 'Classical', 'stefomefo', 1864, 'Khmer804', 1783, 'd4,d5,c4,c6,Bf4,e6,e3,b6,cxd5,cxd5,Nc3,Bd6,Bxd6,Qxd6,Rc1,Ne7,Nf3,O-O,Bd3,Bd7,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Rc8,Qxf7+,Kh8,Qh5+,Kg8,Qh7+,Kf8,O-O,Ng8,f4,Qe7,Nf3,Nc6,Nh4,Qf7,Nb5,Nf6', 'Ng6+,Qxg6,Qxg6', 'https://lichess.org/training/GxWPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gxX0M', 'Blitz', 'GM YagoSantiago', 2572, 'canal_chessveja', 2100, 'e4,c5,Nc3,d6,f4,Nf6,Nf3,e6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,Be7,d3,O-O,Kh1,a6,a4,Qc7,Qe1,Kh8,f5,Ne5,Nxe5,dxe5,Bg5,c4,Qg3,cxd3,cxd3,Rad8,Rac1,Qd6,Rfd1,Nh5,Qg4,Bxg5,Qxg5,Nf6,Ne2,Nxe4', 'dxe4,Qxd1+,Rxd1', 'https://lichess.org/training/gxX0M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gXycb', 'Rapid', 'pianica', 1775, 'MichelettoAttendolo', 1670, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Nd7,Nc3,Ne7,Bg5,Qb6,Rb1,h6,Bh4,Ng6,Bg3,c5,dxc5,Nxc5,Qb5+,Qxb5,Nxb5,Kd7,c4,Ne4,cxd5,Nxg3,fxg3,exd5,O-O,a6,Nbd4,Bc5,Rbc1,b6,a3,a5,b4,axb4,axb4,Bxd4+,Nxd4,Nxe5,Nf3,Nd3,Rb1,f6,Rfd1,Ra3,Ne1,Ne5,Rxd5+,Ke6,Rbd1,Kf5,Nf3,Kg6,Nxe5+,fxe5,Rxe5,Kh7,Re6,Rb8,h3,Rb7,Rdd6,Rxg3,Rxb6,Rd7,b5,Rb3,Kh2,Rd2,h4,Rd5,g3,Rbxb5,Rxb5,Rxb5,Kh3,Rb3,h5,Rb5,g4,Rg5,Kg3,Kg8,Kf4,Kf7,Re5,Kf6,Rf5+,Rxf5+,gxf5,Kf7,Ke5,Ke7,Kf4', 'Kf6,Kg4,Ke5', 'https://lichess.org/training/gXycb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gy3v8', 'Blitz', 'PlukizPettefleta', 2438, 'IM joefrazier1975', 2536, 'e4,c5,d3,Nc6,g3,g6,Bg2,Bg7,f4,d6,Nf3,Nf6,O-O,b5,h3,O-O,g4,c4,Nc3,b4,Ne2,Ba6,Be3,Rc8,Kh1,d5,e5,Nd7,d4,c3,bxc3,bxc3,f5,Nb6,Bc1,Qd7,e6,fxe6,fxg6,hxg6,Re1,Bxe2,Rxe2,Rxf3,Bxf3,Nxd4,Rf2,Nxf3,Qxf3,Rf8,Qe2,Rxf2,Qxf2,e5,Bg5,d4,Rf1,Qd5+,Kg1,e4,Bxe7,d3,Bf6,Bf8,Qh4,Bc5+,Kh2,Bd6+,Kh1', 'e3+,Kg1,e2', 'https://lichess.org/training/gy3v8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GY3Vd', 'Rapid', 'RedDevil91', 1656, 'darioebro15', 1666, 'e4,e5,Nf3,Nc6,Bb5,Nge7,Bxc6,Nxc6,d4,Qf6,d5,Nd4,Nxd4,exd4,O-O,Bd6,c3,dxc3,Nxc3,O-O,g3,Bc5,Qe2,d6,Be3,Bh3,Rfd1,Rae8,Bxc5,dxc5,Qh5,g6,Qxh3,b5,Nxb5,Qxb2,Nxc7,Rxe4,Qg2,f5,Ne6,Re8,Nxc5,Rd4,a4,Rxd1+,Rxd1,Qc2,Qf1,Qxc5,d6,Rd8,Qd3,Kf8,d7,a5,Re1,Qc6,Qd2,Rxd7,Qxa5,Qc2,Qb4+,Kg7,Re8,Rd1+,Kg2', 'Qc6+,Kh3,Qxe8', 'https://lichess.org/training/GY3Vd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gy5ph', 'Rapid', 'matxin', 1945, 'reyjohnny11', 1960, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,h6,Be3,Bd6,Bd3,Bg4,c3,Nbd7,O-O,c6,Nbd2,Qc7,h3,Bxf3,Nxf3,O-O-O,a4,Ne4,Bxe4,dxe4,Nd2,f5,c4,Bh2+,Kh1,f4,Nxe4,fxe3,g3,exf2,Kxh2,Rhf8,c5,Ne5', 'Nd6+,Rxd6,cxd6,Qxd6,dxe5', 'https://lichess.org/training/Gy5ph');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gy9fo', 'Rapid', 'CaissaIndia', 1875, 'Prashanttt', 1659, 'e4,c5,Nf3,d6,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,O-O,Nf6,Bg5,Be7,Qe2,a6,Rfd1,O-O,Rac1,Bd7,Bxf6,Bxf6,Rxd6,Qc7,Rcd1,Ne5', 'Nxe5,Bxe5,Rxd7', 'https://lichess.org/training/gy9fo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GYaU6', 'Rapid', 'helli', 2054, 'Fredjepro', 1998, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,f3,Nc6,e4,dxe4,d5,Ne5,fxe4,e6,Nf3,Nxf3+,Qxf3,Bb4,Bb5+,Bd7,O-O,O-O,Bd3,Bxc3,bxc3,exd5,exd5,Bg4,Qg3,Qxd5,Ba3,Rfe8,Rxf6,gxf6,Qxg4+,Qg5,Qxg5+,fxg5,Bc5,b6,Bd4,h6,Kf2,Rad8,Re1,Rxe1,Kxe1,f6,Bc4+,Kg7,Ke2,Rd7,Kf3,h5,Be6,Re7,Bf5,Re1,a4,Rf1+,Ke4', 'Rf4+,Kd3,Rxf5', 'https://lichess.org/training/GYaU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYbcy', 'Rapid', 'josepizza', 1730, 'Palanca', 1677, 'e4,c5,f4,Nc6,Nf3,Nf6,e5,Nd5,d4,e6,c4,Nc7,Be2,cxd4,Nxd4,Na6,O-O,Nxd4,Bg4,f5,exf6,Qxf6,Nc3,Bc5,Kh1,O-O,Ne4,Qe7,Nxc5,Qxc5,Be3,e5,fxe5,Rxf1+,Qxf1,Qxe5,Bf4,Qe8,Re1,Ne6,Qd3,Nac5,Qd5,Qf7,Bxe6,Nxe6,Bd6,Qf2,Qd1,b6,Rf1,Qxb2,Qd5,Bb7,Qxb7,Rd8,Be7,Qe2,Rc1,Qd2,Rg1,Re8,Bh4,Qd4,Rf1,Qxh4,Qxd7,Qd8,Qf7+,Kh8,Qxa7,Nc5,h3,Re7', 'Qxb6,Qe8,Qxc5', 'https://lichess.org/training/gYbcy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYbdZ', 'Rapid', 'proshyan11', 1739, 'Lazerraptor', 1754, 'c4,e5,Nc3,Nc6,Nf3,Bc5,e3,d6,d4,exd4,exd4,Bb4,Bd2,Bg4,d5,Ne5,Be2,Bxf3,Bxf3,Nxc4,O-O,Ne5', 'Qa4+,Qd7,Qxb4,Nxf3+,gxf3', 'https://lichess.org/training/gYbdZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gyc8c', 'Classical', 'Stanislav253', 1637, 'kazach', 1652, 'e4,e5,Bc4,Nf6,d3,h6,a3,Nc6,Be3,Na5,Ba2,d6,Nc3,c6,h3,b5,Nf3,Be7,Qd2,Be6,Bxe6,fxe6,Nh4,Nxe4,Nxe4,Bxh4,Nxd6+,Qxd6,Qxa5,O-O,O-O-O,Bxf2,Bxf2,Rxf2,g4,a6,Qe1,Raf8,Qe4,a5,Rde1,Kh8,Qxe5,Qxe5,Rxe5,Rf1+,Rxf1,Rxf1+,Kd2,Rh1,Rxe6,c5,Re5,Rxh3,Rxc5,Rh4,g5,h5,Rxb5,Rg4,Rxa5,h4,g6,Rxg6,Rh5+,Rh6,Rxh4,Rxh4,c4,g5,b4,g4,Ke2,Rh3,c5,g3,Kf1,g2+,Kxg2,Rxd3,a4,Rb3', 'b5,Rc3,c6', 'https://lichess.org/training/Gyc8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYcwF', 'Blitz', 'Alec7', 2130, 'Neuron4', 2060, 'c4,e5,Nc3,Nf6,Nf3,Nc6,g3,a6,Bg2,Bc5,O-O,O-O,e3,d6,d4,exd4,exd4,Ba7,h3,Re8,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Bxd4,Nd5,Bxb2,Kh1,Be6,Rb1,Be5,f4,Bd4,Rxb7,Rc8,Nxf6+,Bxf6,Bxf6,Qxf6,Bxc6,Bxh3,Bxe8,Bxf1,Qg4+,Qg6,Qxc8', 'Qe4+,Kg1,Qg2#', 'https://lichess.org/training/gYcwF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYDnv', 'Rapid', 'GologGun', 1685, 'sfkp', 1822, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,h3,Bd6,Nc3,O-O,Bd3,Re8+,Be3,c6,Qd2,Bd7,a3,Qc8,g4,b5,b3,a5,Ne2,Na6,Ng3,Bxg3,fxg3,Re7,g5,Ne4,Bxe4,Rxe4,Ne5,Nc7,h4,Ne6,O-O-O,b4,a4,c5,dxc5,Nxc5,Nxd7', 'Nxb3+,Kb2,Nxd2', 'https://lichess.org/training/gYDnv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYGLb', 'Classical', 'Hoorky', 1844, 'saa04', 2201, 'e4,d6,Bc4,e5,Nf3,Be6,Bxe6,fxe6,d3,Be7,Be3,h6,Qd2,Nf6,Qb4,Qc8,Nc3,d5,Bc5,Nc6,Qa3,Qd7,Bxe7,Qxe7,Qxe7+,Kxe7,a3,Rhe8,b4,a6,O-O,Kf7,b5,axb5,Nxb5,Rac8,Nd2,d4,Nc4,Nd7,f4,Kg8,fxe5,Ncxe5,Nxe5,Nxe5,Nxd4,c5,Nb5,Rc6,Rab1,c4,d4,Ng4,c3,Nf6,e5,Nd5,Nd6,Rb8,Rf3,Ra6,Rxb7,Rxb7,Nxb7,Rxa3,Nd8,Ra6,Nf7,Ra1+,Rf1', 'Rxf1+,Kxf1,Kxf7', 'https://lichess.org/training/gYGLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GyGRP', 'Rapid', 'pinguinHH', 1713, 'BlinderAlbaner', 1681, 'd4,e5,dxe5,Qe7,Nf3,Nc6,Bf4,Qb4+,Nc3,Qxb2,Nd5,Bb4+,Nd2,Nd4,Nxc7+,Kd8,Nxa8', 'Nxc2+,Qxc2,Qxc2', 'https://lichess.org/training/GyGRP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GYIez', 'Rapid', 'Akbaruz', 2131, 'RadioMaryjak', 2142, 'f4,d6,Nf3,Nf6,b3,g6,Bb2,Bg7,e4,O-O,d3,c6,Nbd2,Qa5,Be2,Nbd7,O-O,e5,f5,gxf5,exf5,Ng4,Nc4,Qc7,Ng5,Nxh2,Kxh2,d5,Nd2', 'e4+,Kh1,Bxb2', 'https://lichess.org/training/GYIez');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GYJnr', 'Blitz', 'chuckieborja', 2039, 'cschool', 2072, 'd4,d5,Nf3,c6,Nbd2,Nf6,e3,Nbd7,Bd3,e6,Qe2,Be7,O-O,O-O,Re1,c5,dxc5,Nxc5,e4,Nxd3,cxd3,dxe4,Nxe4,Nxe4,dxe4,Bd7,Be3,Bc6,Red1,Qa5,Bd2,Qh5,Qe3,Bc5,Qc3,Bb6,Re1,Rac8,Qa3,Rfd8,Be3,Bxe3,Rxe3,a6,Rae1,Rd7,Qc3,Rcd8,Ne5,Rd6,Qa5,Be8,Nc4,Qxa5,Nxa5,b5,Nb7,Bc6,Nxd6,Rxd6,f3,g6,Kf2,Kf8,R1e2,Ke7,Rc2,Kd7,Rec3,e5,Ke3,f5,exf5,gxf5,g3,b4,Rc4,Bb5,Rc5,Ke6,Rd2', 'f4+,gxf4,exf4+,Kxf4,Rxd2', 'https://lichess.org/training/GYJnr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYJWW', 'Blitz', 'CHESSMASTER8928', 1565, 'WinchesterPR', 1533, 'e4,c5,Nc3,Nc6,Nf3,g6,Bc4,Bg7,Bxf7+,Kxf7,Ng5+,Ke8,O-O,Nf6,f4,Nxe4,Ncxe4,e6,f5,Bd4+,Kh1,exf5,Rxf5,gxf5', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/gYJWW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GYKNZ', 'Rapid', 'itsmyfail', 1873, 'Old_Chess_King', 1812, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Nf6,f3,Be7,Be3,b5,Nd5,Nxd5,exd5,Nb4,Bf2,Bb7,c4,bxc4', 'Qa4+,Kf8,Qxb4', 'https://lichess.org/training/GYKNZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gyKYB', 'Blitz', 'soul2197', 1952, 'Darknight26', 2047, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Qe7,a3,Bxc3+,bxc3,Nc6,Bf4,O-O-O,a4,d6,a5,e5,d5,exf4,dxc6,Bxc6,axb6,axb6,Ba6+,Kb8,Nd4,Qxe4+,Qe2,Qxe2+,Kxe2,Re8+,Kd2,Bxg2,f3,Bxh1', 'Nc6+,Ka8,Bc8#', 'https://lichess.org/training/gyKYB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYL2u', 'Blitz', 'vlad_2005', 1532, 'mariocaro', 1537, 'e4,c6,d4,d5,Nc3,e6,Bd3,Nd7,Nge2,c5,O-O,c4,exd5,cxd3,dxe6,fxe6,Qxd3,Ngf6,Ne4,Nxe4,Qxe4,Nf6,Qf3,a6,Bg5,Be7,Bxf6,Bxf6,Rad1,O-O,d5,Bxb2,dxe6,Rxf3', 'Rxd8+,Rf8,e7,Re8,Rxe8+', 'https://lichess.org/training/gYL2u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Gym46', 'Rapid', 'eso953', 1914, 'haha-ha', 1749, 'd4,g6,e4,Bg7,c3,d5,e5,Bf5,Na3,f6,f4,fxe5,fxe5,Nd7,Bd3,Nb6,Bxf5,gxf5,Nf3,Qd7,Ng5,Nh6,Qh5+,Kd8,O-O,e6,Bf4,c6,h3,Kc7,Nf3,Qf7,Qxf7+,Nxf7,b3,Bh6,Bxh6,Nxh6,Nc2,Rhg8,Kf2,Nf7,a4,Ng5,Nxg5,Rxg5,a5,Nd7,g3,Rag8,Rg1,Nf8,Ne3,h5,h4,R5g7,c4,Nd7,b4,Nf8,cxd5,exd5,Nxf5', 'Rf7,Raf1,Rxf5+,Ke1,Rxf1+', 'https://lichess.org/training/Gym46');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GYMuk', 'Rapid', 'Aza94', 1702, 'nvn123', 1641, 'd4,d5,c4,Be6,e3,dxc4,Nc3,c6,Nf3,f6,b3,Qa5,Bd2,Qc7,bxc4,Nh6,Bd3,a5,Rb1,b5,d5,Bf5,e4,Bd7,dxc6,Nxc6,Nxb5,Qc8,O-O,Nb4,Be2,Bxb5,cxb5,e6,Qb3,Be7,Bc4,Kf7,Rfc1,Qb7,a3,a4,Qb2,Qxe4,axb4,a3,Qb3,Rhd8,Re1,Qb7,Rxe6,Kf8,Rbe1,a2,Bc3,Nf5,Bd5,Qxb5,Bxa8,Rxa8,Qd1,Bxb4,Bxb4+,Qxb4,Qd7,a1=Q', 'Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/GYMuk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GynK5', 'Rapid', 'nima7445675', 2012, 'kartalizm', 1786, 'e4,b6,d4,Bb7,d5,e6,c4,exd5,cxd5,Qf6,Nf3,Bc5,Bd3,Ne7,O-O,d6,Nc3,Nd7,Bg5,Qg6,e5,Qh5,Bxe7,Kxe7,exd6+,Bxd6,Re1+,Kd8,Be2,Nf6,h3,Re8,Nb5,Bc5,d6,cxd6,Nxd6,Kc7,Nxe8+,Rxe8,Qc2,Kb8,Rac1,Rc8,Qd2,Ne4,Qf4+,Ka8,Rxc5,Qxc5,Ne5,f6,Nd3,Qd4,Kh1,Re8,Kh2,g5,Qf5,Nd6,Qd7,Bc8', 'Bf3+,Kb8,Rxe8', 'https://lichess.org/training/GynK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYolF', 'Rapid', 'Przemek1231', 1684, 'ruegg', 1772, 'e4,c6,d4,d5,f3,dxe4,fxe4,e6,Nc3,Nf6,Nf3,Bb4,Qd3,O-O,Bg5,Be7,O-O-O,Ng4,Bxe7,Qxe7,Qd2,Nf6,Be2,b5,e5,Nd5,Nxd5,exd5,h4,h6,Rdg1,a6,g4,c5,g5,h5,dxc5,Qxc5,Nd4,g6,Rf1,Nc6,e6,Qxd4,exf7+,Rxf7,Bd3,Bf5,Rf4,Qg7,Bxf5,Rxf5', 'Rxf5,gxf5,Qxd5+,Qf7,Qxc6', 'https://lichess.org/training/gYolF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYOrd', 'Rapid', 'izzy5468', 1614, 'davidemen', 1743, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,d6,Bc4,Nf6,Nc3,Be7,O-O,O-O,Re1,Bg4,f3,Bh5,Bg5,Bg6,Bxf6,Bxf6,Rb1,Be5,Nd5,Qh4,g3,Qd8,c3,h5,Qb3,h4,g4,h3,Qxb7,Qg5,Ne7+,Kh8,Nxg6+,fxg6,Re2,Rad8,Rf2,Rf4,Be6,Rdf8,Rbf1,Qf6,Bd5,Qg5,Be6,R4f6,Bd5,Rxf3,Rxf3,Qxg4+,Rg3,Rxf1+,Kxf1,Qd1+,Kf2,Bxg3+,hxg3,Qd2+,Kf3,Qg2+,Kg4,Qe2+,Kxh3,Qf1+,Kg4,Qe2+,Kh4', 'Qh5#', 'https://lichess.org/training/gYOrd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYp6V', 'Blitz', 'TacMaitem', 1982, 'H3paJ', 1961, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,e6,Be3,Nf6,f3,Be7,Qd2,O-O,g4,Ne5,O-O-O,b5,Bxb5,Bb7,Be2,Qa5,Kb1,Rfc8,h4,Rab8,Nb3,Qb4,h5,Nc4,Bxc4,Rxc4,Bxa7,Ra8,Be3,Nd7,g5,Ne5,f4,Nf3,Qf2,Rxc3,bxc3,Qa4,Qxf3,Bxe4,Qf1', 'Qxa2+,Kc1,Qxc2#', 'https://lichess.org/training/gYp6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GYpJW', 'Blitz', 'dukonski', 1687, 'gosha213', 1677, 'b3,Nf6,Bb2,g6,Bxf6,exf6,Nc3,Bg7,e3,O-O,h4,Nc6,h5,d5,hxg6,fxg6,Qf3,Be6,Bb5,Ne5,Qe2,c6,Bd3,a6,f4,Nxd3+,Qxd3,Bf5,Qe2,Bxc2,Nf3,Re8,g4,f5,gxf5,Bxf5,Nh4,Bd7,Qh2,Bxc3,Nxg6,hxg6,Qh7+,Kf8,dxc3,Rxe3+,Kd2,Re7,Qh8+,Kf7', 'Rh7+,Ke6,Qe5#', 'https://lichess.org/training/GYpJW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYPOi', 'Blitz', 'TheRookieKnight', 2230, 'zblabunda', 2371, 'd4,d5,Nf3,c6,g3,Bf5,Bg2,h6,c4,e6,Nc3,Nd7,Nd2,Ngf6,O-O,Be7,Re1,O-O,e4,dxe4,Ndxe4,Nxe4,Nxe4,a5,b3,a4,Bb2,Bb4,Re3,Bxe4,Bxe4,Nf6,Bc2,a3,Bc3,Qa5,Bxb4,Qxb4,Rf3,Rfd8,Qd3,c5,d5,exd5,Rxf6,gxf6,Qh7+,Kf8,Qxh6+,Ke7,Qe3+,Kd6,Re1,d4,Qe7+,Kc6,Be4+,Kb6,Qxb7+,Ka5,Qc7+,Qb6,Qxf7,Ra7,Qh5,d3,Rd1,d2,Qf3,Rd4,Bd5,Re7,Kg2,Re1,h4,Rxd1,Qxd1,Qb4,Bc6,Qc3,h5,Qd3,b4+,Kxb4', 'Qa4+,Kc3,Qb3#', 'https://lichess.org/training/gYPOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GypVM', 'Bullet', 'bedo777', 1887, 'Carlos82', 1903, 'e4,Nf6,Nc3,e6,Nf3,d5,e5,Nfd7,d4,c5,Bb5,a6,Bxd7+,Nxd7,dxc5,Bxc5,O-O,O-O,Bg5,Qc7,Re1,h6,Be3,b6,Bxc5,bxc5,Qd2,Bb7,Rad1,Rfd8,Qf4,Nb6,b3,d4,Ne4,Nd5,Qg4,Nc3,Nf6+,Kh8,Nh5,Rg8,Rd3,Bxf3,Rxf3,Qe7,Rh3,Nd5,Nf6,Nxf6,exf6,Qxf6,Re4,Qf5,Qe2,Rad8,g4,Qd5,f3,d3,Qd2,dxc2', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/GypVM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GYsbH', 'Rapid', 'Lead2000', 1848, 'anto_samlin', 1950, 'e4,d5,exd5,c6,dxc6,Nxc6,Nc3,Nf6,Nf3,a6,d4,Bg4,Be2,Rb8,Bg5,Bxf3,Bxf3,Nxd4,Bxf6,exf6,O-O,Be7,Nd5,Nxf3+,Qxf3,O-O,Rad1,Bc5,Nxf6+', 'Qxf6,Qxf6,gxf6', 'https://lichess.org/training/GYsbH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gyTrs', 'Blitz', 'FM ril-1997', 2483, 'AMS_MENORCA', 2323, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c4,Nc6,Be3,Nf6,Nc3,O-O,Be2,b6,O-O,Bb7,f3,Re8,Rc1,e6,Nxc6,dxc6,Qc2,e5,Rfd1,Qc7,c5,b5,a4,b4,Nb1,a5,b3,Nh5,Nd2,Nf4,Bc4,Ba6,Bxa6,Rxa6,Nc4,Qe7,Bxf4,exf4,Rd6,Qg5,Qf2,Bf8,e5,Rxe5,Nxe5,Qxe5,Qd4', 'Bxd6,Qxe5,Bxe5', 'https://lichess.org/training/gyTrs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GyUhJ', 'Classical', 'M4tt4ck', 1899, 'lldpll', 1892, 'e4,e5,Nf3,Qf6,Nc3,c6,d4,exd4,Nxd4,Bc5,Be3,d6,Be2,Ne7,Qd2,Qg6,Bf3,Nd7,h4,Ne5,h5,Qf6,Bg5,Nxf3+,gxf3', 'Qxd4,Qxd4,Bxd4', 'https://lichess.org/training/GyUhJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GyvRN', 'Rapid', 'prassou', 2088, 'Lucky__Luciano', 1925, 'e4,e5,Nf3,Nc6,d3,Nf6,g3,Bc5,Bg2,d6,O-O,O-O,c3,Bg4,h3,Be6,Ng5,Bd7,b4,Bb6,a4,a5,b5,Nb8,Ba3,h6,Nf3,Qc8,Kh2,Be6,Nbd2,Nbd7,d4,exd4,cxd4,d5,Bxf8,Qxf8,e5,Ne4,Nxe4,dxe4,Ng1,Bd5,Ne2,f5,Nf4,Bc4,Re1,g5,Ng6,Qf7,Rc1,Bd5,Qh5,Kh7,Nf4,gxf4,Qxf7+,Bxf7,gxf4,Bd5,Red1,c5', 'dxc5,Nxc5,Rxd5', 'https://lichess.org/training/GyvRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYWUL', 'Blitz', 'FM ianfindlay2314', 2269, 'ZbarazhChess', 1917, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Be7,O-O,Nc6,c4,Nb4,Be2,O-O,Nc3,Bf5,a3,Nxc3,bxc3,Nc6,Re1,Bf6,Bf4,Re8,Qd2,dxc4,Bxc4,Qd7,Ng5,Bg6,h3,h6,Nf3,Na5,Ba2,b5,Ne5,Bxe5,Bxe5,Nc4,Bxc4,bxc4,Qf4,c6,g4,f6,Bd6,Rxe1+,Rxe1,Re8,Re3,Rxe3,fxe3,Bf7,e4,Be6,Kh2,Kf7,Kg3', 'g5,Qf3,Qxd6+', 'https://lichess.org/training/gYWUL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GYx1e', 'Blitz', 'Chugunov_Vyacheslav', 2183, 'Comeback60', 2148, 'd4,e6,Nf3,f5,e3,Nf6,c4,c6,Nc3,d5,Be2,Bd6,O-O,O-O,Ne5,Nbd7,f4,Ne4,Bd2,Kh8,Be1,Nxe5,dxe5,Bc5,Nxe4,fxe4,Bf2,Qb6,Qc1,g5,g3,Bd7,a3,a5,Rb1,d4,exd4,Bxd4,b4,gxf4,c5,Bxf2+,Rxf2,Qd8,gxf4,Qh4,Qe3,Rf5,Kh1,axb4,axb4,Ra3', 'Qxa3,Qxf2,Qa8+,Kg7,Rg1+', 'https://lichess.org/training/GYx1e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gYy1Q', 'Rapid', 'samichibani44', 1859, 'NicoDec', 1817, 'd4,Nf6,e3,e6,a3,c5,c3,d5,b4,b6,Nf3,Nc6,Bb5,Bd7,a4,a6,Bxc6,Bxc6,Ne5,Bb7,bxc5,bxc5,Ba3,Bd6,f4,cxd4,exd4,Bxa3,Rxa3,Ne4,O-O,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/gYy1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GZ25b', 'Blitz', 'kazax', 1847, 'NM mkoganov', 2180, 'e4,d6,f4,Nf6,Nc3,e5,d3,g6,Nf3,exf4,Bxf4,Bg7,Be2,Be6,O-O,O-O,Qd2,Nbd7,Bh6,Ng4,Bxg7,Kxg7,h3,Nge5,d4,Nxf3+,Bxf3,Bc4,Rfe1,f6,d5,Ne5,b3,Ba6,Qd4,b6,a4,Bc8,Ne2,Bxh3,Nf4,Bd7,c4,a5,Kf2,Qe7,Rh1,Nxf3,gxf3,Qe5,Qe3,f5,Nd3,f4,Qe2,Qd4+,Kg2,Rae8,Rad1,Qf6,Rdg1,Kh8,Kf1,Qa1+,Ne1,Qf6,Qh2,Rf7,Qh6,Qg7,Rxg6,Qxh6,Rgxh6,Rg8,Ng2,Rgg7,Kf2,Kg8,R1h4,Rg5,Rxf4', 'Rxg2+,Kxg2,Rxf4', 'https://lichess.org/training/GZ25b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GZ626', 'Blitz', 'Tife', 1881, 'johnflowers', 1969, 'e4,c5,Nc3,g6,Bc4,Bg7,Nf3,Nc6,d4,cxd4,Nd5,e6,Nf4,Nge7,O-O,O-O,Re1,d5,exd5,Nxd5,Nxd5,exd5,Bb3,Na5,Nxd4,Nxb3,Nxb3,a6,c3,b5,Nd4,Bb7,Be3,Qf6,Qd2,Rfe8,Rac1,h5,Bg5,Qd6,Bh6,Qd7,Bf4,Rac8,Bh6,Bh8,Bg7,Bxg7,Qg5,Bxd4,cxd4,Rc4,Rxe8+,Qxe8,f3,Qc8,Re1,Rxd4,Qf6,Rc4,Re7,Qc5+,Kf1,Rc1+,Ke2,Rc2+,Kd3,Qc4+,Ke3,d4+,Kf4,d3+,Kg3,Bd5', 'Re8+,Kh7,Qh8#', 'https://lichess.org/training/GZ626');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GZ6oD', 'Rapid', 'achaiah', 1662, 'amirh', 1694, 'd4,d5,c4,dxc4,e3,a6,Bxc4,h6,Nc3,e6,Nf3,Bb4,Bd2,Nf6,O-O,Nc6,a3,Bd6,d5,exd5,Nxd5,Bg4,Bc3,Nxd5,Bxd5,f6,h3,Bd7,Qb3,Rf8,Qxb7,Rb8,Qxa6,Ne7,e4,Nxd5,exd5,Kf7,Qd3,Kg8,Nh4,Bb5,Qg6,Bxf1,Rxf1,Rb6,Nf5,Bc5,Nxh6+,Kh8,Nf7+,Rxf7,Qxf7,Qd6,Re1,Rb8,Re7', 'Qxe7,Qxe7,Bxe7', 'https://lichess.org/training/GZ6oD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gz6PL', 'Classical', 'MBBoI', 1708, 'abhiav1', 1719, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,cxd3,h6,O-O,Nd7,Re1,Ne7,Nbd2,Nf5,Nb3,Bb4,Bd2,Bxd2,Qxd2,O-O,Nc5,b6,Nxd7,Qxd7,Rac1,Rfc8,g4,Ne7,Nh4,g5,Ng2,Ng6,h4,gxh4,Qxh6,Qe7,g5,Qf8,Nxh4', 'Qxh6,gxh6,Nxh4', 'https://lichess.org/training/gz6PL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gzbeF', 'Rapid', 'mahmoodmoos', 1664, 'Danila88', 1635, 'e4,d5,e5,Bf5,d4,Nc6,Bb5,a6,Bxc6+,bxc6,Qf3,g6,Qc3,Qd7,Nf3,Bh6,Bxh6,Nxh6,Ng5,O-O,O-O,f6,exf6,exf6,Nf3,Be4,Nh4,Qg4,g3,g5,f3,Bxf3,Nxf3,Rae8,Qxc6,Re3,Qxd5+,Kg7,Nbd2,Rfe8,Rae1,Rxe1,Rxe1,Rxe1+,Nxe1,Nf5,Qd7+,Kh6,Qxc7,Qxd4+,Kf1,Qxd2,Qf7', 'Ne3+,Kg1,Qxe1#', 'https://lichess.org/training/gzbeF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gZC4l', 'Rapid', 'seananigan', 1679, 'harmjanvdb', 1685, 'e4,c5,Nf3,d6,Nc3,Nc6,Bb5,Bd7,O-O,Nf6,d4,cxd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,e6,Rd1,e5,Qc4,Rc8,Qb4,Be7,Bg5,b6,Bxf6,gxf6,a4,Rg8,h3,Qxh3,g3,h5,Nd5,h4,Nxe7,hxg3,Nxg8', 'Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/gZC4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gZce3', 'Blitz', 'onlyata', 2029, 'Nadal650', 2110, 'e4,c5,Nf3,e6,Nc3,d6,d4,cxd4,Nxd4,a6,a4,Nf6,Bc4,Qc7,Bb3,Nbd7,Bxe6,fxe6,Nxe6,Qc4,Nxf8,Rxf8,Qxd6,Nxe4,Nxe4,Qxe4+,Be3,Qe7,Qg3,Qe5,Qh4,Nf6,O-O,Kf7,Qc4+,Be6,Qb4,Qc7,Bf4,Qc6,Rfd1,Nd5,Qd4,Nxf4,Qxf4+,Kg8,Qe5,Rae8,Rd6,Qxc2,Rxe6', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/gZce3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gzCtu', 'Blitz', 'FM Schlumpfine', 2404, 'Diloyan', 2282, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,Nc3,O-O,a3,Kh8,O-O,Ng8,b4,f5,b5,Nd4,Nxe5,Bf6,Nf7+,Rxf7,Bxf7,Nxb5,Nxb5,Bxa1,c3,c6,Bf4,cxb5,Qxa1,d6,Qb2,fxe4,dxe4,Qf6,Bxg8,Qxf4,Bd5,a6,Qe2,Rb8,Qe3,Qxe3,fxe3,Bd7,Rf7,Bc6,Rc7,Bxd5,exd5,Kg8,Kf2,a5,e4,Rf8+,Ke3,Rf7,Rc8+,Rf8,Rxf8+,Kxf8,Kd4,Ke7,c4,b4,axb4,axb4,g3,b6,Kd3,Kf6,Kd4,g6,h3,h6,h4,h5,Ke3,Ke5', 'Kd3,b3,Kc3,Kxe4,Kxb3', 'https://lichess.org/training/gzCtu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gzcvU', 'Rapid', 'Niceguy007', 1766, 'Francesco69', 1776, 'd4,d5,Nc3,c6,Nf3,e6,e4,Bb4,exd5,Bxc3+,bxc3,Qxd5,Be2,Nf6,O-O,Ne4,c4,Qd6,Qd3,f5,Ba3,c5,dxc5,Qxd3,cxd3,Nc3,Bd1,O-O,c6,Rd8,c7,Rxd3,cxb8=Q,Rxb8,Bb3,b6,Ne5,Rd2,Bb4,Ne2+,Kh1,Rb2,Rfe1,Nf4,g3,Bb7+,Kg1', 'Nh3+,Kf1,Rxf2#', 'https://lichess.org/training/gzcvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GzcxQ', 'Rapid', 'orionchess', 2288, 'EchecsEtSuccess', 2074, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,h3,h6,O-O,Be6,Bb3,Qd7,Nh2,g5,Be3,O-O-O,Bxc5,dxc5,Bxe6,Qxe6,Ng4,h5,Nxf6,Qxf6,Nd5,Qe6,c3,f5,Qf3,Rdf8,Qe3,g4,Qxc5,gxh3,g3,f4,Kh2,h4,gxf4,exf4,Rg1,Rfg8,b4,Rg2+,Rxg2,hxg2,b5,Ne5', 'Qxc7#', 'https://lichess.org/training/GzcxQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gzcYd', 'Rapid', 'Walter-B', 1791, 'Waalter', 2010, 'e4,d5,exd5,Nf6,Nf3,Qxd5,Be2,Bg4,O-O,c6,h3,Bh5,c3,e6,d4,Nbd7,Bg5', 'Bxf3,Bxf3,Qxg5', 'https://lichess.org/training/gzcYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GZdmg', 'Rapid', 'xXBlackKnightXx', 1707, 'fireball007', 1737, 'd4,c6,Nf3,Qb6,Nc3,d5,e3,Bg4,Be2,Bxf3,Bxf3,Nd7,O-O,O-O-O,e4,e6,e5,f6,Bf4,g5,Bg3,h5,Bxh5,Nh6,Bf3,Nf5,Bg4,Qxb2,Bxf5,exf5,Na4,Qb4,Nc5,Bxc5,f4,fxe5,fxe5,Bxd4+,Bf2,Bxa1,Qxa1,Nxe5,Qxe5,Qe4,Qb2,a6,Rb1,b5,Re1,Qf4,Qf6,Qxh2+,Kf1,Rde8,Qxc6+,Kd8,Qd6+,Kc8,Qxh2', 'Rxe1+,Bxe1,Rxh2', 'https://lichess.org/training/GZdmg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GZevn', 'Rapid', 'GodChessYou', 1970, 'Zhajk', 1891, 'd4,c5,dxc5,e6,c4,Bxc5,Nc3,Nc6,Nf3,Nf6,e4,Qb6,Qc2,Nd4,Nxd4,Bxd4,Bd3,Ng4,O-O,Qd6,g3,Nxf2,Rxf2,Bxf2+,Kxf2,Qd4+,Be3,Qf6+,Kg1,h5,Rf1,Qe7,e5,d6,exd6,Qxd6,c5,Qe7,Ne4,O-O,Nd6,f5,Qe2,h4,Qh5,hxg3,hxg3,Rf6,Bg5,b6,Bxf6,Qxf6,Qe8+,Kh7,Rf4,Bb7,Qh5+,Kg8,Rh4,Kf8,Bb5,a6,Qe8+,Rxe8', 'Rh8+,Ke7,Rxe8#', 'https://lichess.org/training/GZevn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GZiMi', 'Rapid', 'shimianto', 1803, 'GustavoErnandes', 2134, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,d6,Rb1,O-O,b4,c6,a4,e5,e3,Be6,d3,Qd7,b5,d5,cxd5,cxd5,e4,d4,Nce2,a6,f4,exf4,Bxf4,axb5,axb5,Rc8,Be5,Ne8,Bxg7,Nxg7,Nf4,Bg4,Qb3,Be6,Nxe6,Qxe6,Qxe6,Nxe6,Nf3,Ra2,O-O,Rcc2,Bh1,Nd7,Rbc1,Ndc5,Rxc2,Rxc2,Ne5,Nd8,Rf2,Rc3,Rd2,Rb3,Nc4,Rxb5,e5,Rb3,Nb2,Rc3,Be4,b5,Nd1,Rc1,Kf2,Nxe4+,dxe4,Ne6,Ke2,b4,Rb2,Rc4,Kd3,Rc3+,Nxc3,bxc3,Rf2,Kg7,h4,h6,g4,Kf8,h5,gxh5,gxh5,Ke7,Rf6', 'Nc5+,Kxd4,c2', 'https://lichess.org/training/GZiMi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gZIyu', 'Blitz', 'fabiospampinato', 1779, 'vladimir1948', 1795, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,Bg4,Nbd2,e6,h3,Bh5,Be2,Bd6,Bg5,h6,Bh4,g5,Bg3,Bxg3,fxg3,Qd6,g4,Qg3+,Kf1,Bxg4,hxg4,Nxg4,Qe1', 'Nxe3+,Kg1,Qxg2#', 'https://lichess.org/training/gZIyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gzJ5d', 'Blitz', 'durduakkok', 2032, 'LeaRie', 1853, 'e4,d5,exd5,Qxd5,h3,Nf6,Nf3,Nc6,c4,Qd8,d4,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,Be7,a3,Qd7,O-O,Rd8,Be3,O-O,Rad1,Nb8,Ne4,c6,Nxf6+,Bxf6,Qe4,Qe7,b4,Rfe8,Ne5,Bxe5,dxe5,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,Bxa7,Nd7,Be3,Nb6,Bxb6,Qxb6,Qe3,Qd8,Qc5,h6,Qd6,Qa8,b5,cxb5,cxb5,Kh7,Kf1,Qa4,Qd3+,g6,g3,Kg7,Ke2,Qa5,f4,Qb6,Kf1,Qc5,Kg2,Qc1,h4,Qb2+,Kh3,Qc1,h5', 'Qh1+,Kg4,Qxh5#', 'https://lichess.org/training/gzJ5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gZkOk', 'Rapid', 'dimastenin', 1618, 'Ba-sil', 1538, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Be3,Bb4,Bb5,Bxc3+,bxc3,Nxe4,Bxc6,bxc6,Qd3,d5,O-O,c5,Nc6,Qd7,Ne5,Qe7,Nc6,Qd7,Ne5,Qe7,Nf3,Bf5,Qxd5,Rd8,Qxf5,g6,Qg4,h5,Qh3,f6,Rad1,Rxd1,Rxd1,g5,Bxc5,Qxc5,Qd7+,Kf8,Qd8+,Kg7,Rd7+,Kg6,Qxh8', 'Qxf2+,Kh1,Qf1+,Ng1,Nf2#', 'https://lichess.org/training/gZkOk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gzngk', 'Rapid', 'Frzad1358', 1735, 'AbolfazlMobaleghi', 1766, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Bb4+,c3,Bc5,Bc4,Nf6,Bg5,Be7,Bxf6,Bxf6,O-O,O-O,h3,d6,Nh2,Be6,Bd3,d5,exd5,Bxd5,Bc2,Be6,Nd2,Qc8,Ne4,Be7,Qf3,g6,Nf6+,Kg7,Nfg4,f5,Ne3,e4,Qe2,Ne5,a3,a6,Rad1,Rd8,Rxd8,Qxd8,Rd1,Qb6,b4,Rd8,Nhf1,Rxd1,Qxd1,a5,Qd4,Qxd4,cxd4,Nc4,Nxc4,Bxc4,Nd2,Bd5,bxa5,Bxa3,Bb3,Bxb3,Nxb3,Kf7,Nc5,Bxc5', 'dxc5,Ke6,c6,Kd6,cxb7,Kc7,a6', 'https://lichess.org/training/gzngk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gzPXv', 'Rapid', 'Zergosk', 1712, 'Hasibb', 1676, 'e4,e5,Nf3,f6,Bc4,a6,c3,b5,Bxg8,Rxg8,d4,d5,Qc2,Nc6,exd5,Qxd5,Qxh7,exd4,cxd4,Bg4,Nc3,Qe6+,Be3,Bxf3,gxf3,Nxd4,O-O-O,Nxf3,Nd5,Qc6+,Kb1,O-O-O,Qxg8,Bc5,Nb6+,Bxb6,Rxd8+,Kb7,Rb8+,Ka7,Bxb6+,cxb6,Rc8', 'Nd2+,Ka1,Qxh1+,Rc1,Qxc1#', 'https://lichess.org/training/gzPXv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gZQ4d', 'Blitz', 'falanga', 1610, 'littlistboo', 1680, 'e4,b6,d4,Bb7,c4,Nf6,Nc3,e6,e5,Ne4,Nxe4,Bxe4,Bd3,Bxg2,d5,Bxh1,dxe6,dxe6,f3,Nc6,Nh3,Bg2,Nf4,Qh4+,Ke2,Nd4+,Ke3,Nxf3,Nxg2,Qxh2,Qxf3,Qxe5+,Kf2,Bc5+,Be3,Bxe3+,Nxe3,O-O,Rh1,g6,Qh3,h5,Rg1,Qxb2+,Nc2,Qf6+,Ke2,Qe5+,Ne3,Rad8,Qg2,Rd4,Bxg6,Qg7,Nc2,Rxc4', 'Bh7+,Kxh7,Qxg7#', 'https://lichess.org/training/gZQ4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GzqHT', 'Rapid', 'yacktheduke', 1768, 'LeoHopD', 1853, 'e4,c5,Nf3,Nc6,c3,d5,Bd3,d4,cxd4,Nxd4,O-O,Bg4,Qa4+,Qd7,Qxd7+,Kxd7,Nxd4,cxd4,f3,Bh5,Na3,e5,Nc4,f6,b3,Be7,Ba3,Bf7,Bxe7,Nxe7,f4,Nc6,fxe5,Bxc4,Bxc4,Nxe5,Bd5,Rab8,Rac1,b6,Rc2,Rbc8,Rfc1,Rxc2,Rxc2,Rc8', 'Be6+,Kxe6,Rxc8', 'https://lichess.org/training/GzqHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gzqkR', 'Rapid', 'rossbarkley', 2038, 'Katotron', 1896, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,e5,d5,O-O,Be2,a5,O-O,Na6,h3,Nc5,Qc2,Nh5,Bg5,Qe8,Qd2,f5,exf5,gxf5,Bh6,f4,Bxg7,Nxg7,Nh2,Qg6,Bg4,Nf5,Nb5,Qg7,Rae1,h5,Bxh5,Nh4,Bg4,f3,g3,Bxg4,Nxg4,Nf5,Nc3,Kf7,Ne4,Nxe4,Rxe4,Rh8,h4,Rag8,Qg5,Qxg5,hxg5,Rxg5,Nh2,Rgh5,Nxf3,Nd4,Nxd4', 'Rh1+,Kg2,R8h2+,Kf3,Rxf1', 'https://lichess.org/training/gzqkR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GzQPj', 'Blitz', 'Manaos_uva', 2016, 'Amilcarcuba', 1924, 'e4,c5,Nc3,Nc6,d3,d6,f4,e6,Nf3,Nf6,Be2,Be7,Be3,O-O,h4,a6,Qd2,Ng4,Bg1,Bxh4+,Kd1,Bf6,Ng5,Bxg5,Bxg4,Bf6,Be3,Qa5,Ke2,Nd4+,Bxd4,Bxd4,f5,exf5,Nd5,Qxd2+,Kxd2,fxg4', 'Ne7+,Kh8,Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/GzQPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GzrNN', 'Rapid', 'kazer91', 1774, 'dadgari2211', 1884, 'd4,e6,c4,d5,Nf3,dxc4,Nc3,Bb4,e4,Nf6,e5,Ne4,Qc2,Nxc3,bxc3,Ba5,Bxc4,c5,O-O,cxd4,cxd4,O-O,Bd3,g6,Bh6,Re8,Rac1,Nc6,Bb5,Bd7,Bg5,Qb6,Qe4,Qxb5,Bh6,Bd8,Qf4,Qd3,g4,Be7,Ng5,Bxg5,Qxg5,Qxd4,Rxc6,Bxc6,h3,Qe4,f3,Qd4+,Kh2,Qd8,Qf4,Kh8,Qxf7,Qe7', 'Bg7#', 'https://lichess.org/training/GzrNN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GzSgJ', 'Classical', 'makdeo27', 1836, 'laureles5238', 1887, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,c5,Ne2,Nc6,Be3,O-O,O-O,Bg4,f3,Bd7,dxc5,Qc7,Bb5,Rfd8,Qb3,a6,Bc4,e6,Bf4,Qc8,Qb6,Ne5,Bb3,Nd3,Bd6,Bb5,Nd4,Nxc5,Bxc5,Bxf1,Rxf1,Re8,Rb1,Qd7,Qa5,b5,Rd1,Qb7,Qb4,Rac8,Bd6,h5,a4,h4,axb5,axb5,Qxb5', 'Bxd4+,Rxd4,Qxb5', 'https://lichess.org/training/GzSgJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gZsh3', 'Blitz', 'zebesch', 2107, 'iNFiNiTeZ', 2104, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,d6,Qe2,Be7,O-O,Nf6,Rd1,e5,Bg5,O-O,Nb5,Bg4,Bxf6,Bxf6,Rxd6,Qe7,Rad1,a6,Nc3,Nd4,R6xd4,exd4,Nd5,Qd6,h3,Bxf3,Qxf3,Be5,Qg4,Rac8,Bb3,g6,f4,Bg7,e5,Qc5,Qd7,Rfd8,Nf6+,Bxf6', 'Qxf7+,Kh8,Qxf6#', 'https://lichess.org/training/gZsh3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gZTUz', 'Classical', 'Gcarvalho', 1743, 'AlGusHen', 1879, 'c4,Nf6,Nc3,g6,g3,d6,Bg2,Bg7,e4,O-O,Nge2,Nbd7,O-O,Ne5,d3,c5,f4,Neg4,h3,Nh6,g4,Nhxg4,hxg4,Bxg4,e5,Nh5,Bxb7,dxe5,Bxa8,Qxa8,Qe1,Qd8,Ng3,Nxf4,Bxf4,exf4,Rxf4,h5,Qe3', 'Bd4,Rxd4,cxd4', 'https://lichess.org/training/gZTUz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gzUhP', 'Blitz', 'akashtripathichamp', 1818, 'P70K', 1716, 'e4,e5,f4,exf4,Nf3,Nc6,d4,f6,Bxf4,d6,Bb5,Bd7,Nc3,Nge7,h4,Ng6,Bg3,Be7,h5,Nf8,d5,Ne5,Bxd7+,Qxd7,Nd4,O-O-O,Qe2,Qe8,Bxe5,Ne6,Nxe6,fxe5,Nxd8,Qxd8,Rf1,Bh4+,Kd1,b6,Qg4+,Kb8,Kd2,h6,Rad1,Bg5+,Kd3,Qc8,a4,Qa6+,Nb5,c6,c4,cxb5,axb5,Qa4,Qd7', 'Qb3+,Ke2,Qe3#', 'https://lichess.org/training/gzUhP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gZW5c', 'Rapid', 'DrRosberg', 1890, 'SannVvo', 1902, 'd4,d5,c4,c6,e3,Nf6,f4,Bg4,Be2,Bxe2,Nxe2,dxc4,a4,Ne4,Qc2,f5,Qxc4,Nd7,Nbc3,Nb6,Qd3,Nxc3,bxc3,e6,c4,Bb4+,Bd2,Bxd2+,Qxd2,Nxc4,Qa2,Qd5', 'Nc3,Qd7,Qxc4', 'https://lichess.org/training/gZW5c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gzwkC', 'Rapid', 'Robson007000', 1652, 'Aloru_03', 1658, 'd4,d5,c4,e6,Nf3,c5,Nc3,Nc6,cxd5,exd5,e3,Nf6,Bb5,a6,Ba4,b5,Bb3,c4,Bc2,Bb4,O-O,O-O,a3,Ba5,Re1,Bg4,h3,Bh5,g4,Bg6,Bxg6,fxg6,g5,Nh5,Ne5,Nxe5,dxe5,Qxg5+,Kh1,Rxf2', 'Qxd5+,Rf7,Qxa8+', 'https://lichess.org/training/gzwkC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GzyLQ', 'Rapid', 'Dolix12', 1939, 'alphabetaalpha', 1977, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,Bf4,Nbd7,e4,O-O,Be2,c6,O-O,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Nxe4,Bxg7,Nxc3,Qxd8', 'Nxe2+,Kh1,Rxd8', 'https://lichess.org/training/GzyLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gzzkl', 'Blitz', 'Adhyov', 1728, 'awesomeandmodest', 1699, 'f4,d5,d4,c6,e3,Nf6,Nd2,Bg4,Be2,Bxe2,Qxe2,e6,Ndf3,Bd6,Nh3,Nbd7,O-O,Qb6,c4,c5,cxd5,Nxd5,dxc5,Bxc5,Kh1,Bxe3,Ne5,Nxe5,fxe5,O-O,Ng5,Bxc1,Raxc1,Rac8,Rxc8,Rxc8,Nxf7,Rf8', 'Nh6+,gxh6,Qg4+,Kh8,Rxf8#', 'https://lichess.org/training/gzzkl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('gZzmm', 'Rapid', 'mad_cat_with_hat', 1656, 'milinche', 1731, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,Bg5,Nc6,Bb5,Bd7,Qe3,Be7,Bxc6,Bxc6,e5,dxe5,Nxe5,Bxg2,Rg1,Bd5,Nc3,b6,Rd1,c6,Nxc6,Qc7,Nxe7,Qxe7,Qxe7+,Kxe7,Bxf6+,Kxf6,Nxd5+,Ke6,Rxg7,Rac8,c4,Rhe8,Rg4,Kd6+,Kf1,Kc5,Rgd4,Re5,Nf6,Re6,Nxh7,Rh6,Nf6,Rxf6,f4,Rh8,R1d2,Rh4,Ke1,Rfxf4,Rxf4,Rxf4,b3,f5,Rf2,Re4+,Kf1,f4,Kg2,Kd4,h4,f3+,Rxf3,Rxh4,Rf7,a5,Rb7,Kc5,a3,Rd4,Rf7,Rd2+,Rf2', 'Rxf2+,Kxf2,Kd4', 'https://lichess.org/training/gZzmm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('GzzQc', 'Rapid', 'Subhaskhjangir', 1852, 'DDS12345', 1802, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,Ne2,Bc5,O-O,O-O,d4,Bb6,Bg5,Qd6,Bxf6,Qxf6,Bxd5,c6,Bf3,Rd8,c3,c5,Qa4,cxd4,cxd4,Bd7,Qc4,Be6,Qb5,Bxd4,Bxb7,Bxb2,Bxa8,Bxa1,Bf3,Be5,Nd2,h6,Ne4,Qf5,Qa5', 'Bxh2+,Kxh2,Qxa5', 'https://lichess.org/training/GzzQc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h00gu', 'Rapid', 'alpercimen', 1617, 'MHilgers', 1663, 'e4,c5,Nf3,e6,c3,Nc6,d4,d5,exd5,exd5,Bb5,Nf6,Ne5,Bd7,Qe2,Be7,dxc5,O-O,Nxc6,bxc6,Bd3,Bxc5,O-O,Bg4,Qc2,g6,Bg5,Re8,Nd2,Be2,Rfe1,Bxd3,Rxe8+,Qxe8,Qxd3,Ng4,Bh4,g5,Bg3,Qe7,h3,Ne5,Qf5,Re8,Re1,Nf3+', 'Nxf3,Qxe1+,Nxe1', 'https://lichess.org/training/h00gu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H00UB', 'Rapid', 'Abimael20', 2196, 'TheOnlyChessCheetah', 2185, 'd4,d5,Bf4,e6,e3,Nf6,Nf3,Bd6,Bg3,O-O,Bd3,c6,c3,Bxg3,hxg3,Nbd7,Nbd2,c5,Ne5,c4,Bc2,h6,f4,Nxe5,dxe5,Nd7,g4,Nc5,Qf3,f5,gxf5,exf5,O-O-O,Be6,Nxc4,b5,Nd6,Qa5,Kb1,d4,exd4,Bxa2+,Kc1,Nb3+,Bxb3+,Bxb3,Kd2,Rac8,Nxc8,Rxc8,Ra1,Qb6,Ke3,b4,Rac1,bxc3,bxc3,Qa5,Kf2,Qa2+,Kg3,Qd2,Rhf1,Qb2,Kh2,Bc2,Qd5+,Kh8,c4', 'Be4,Qxe4,fxe4', 'https://lichess.org/training/H00UB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H05bL', 'Classical', 'ahmadokiel', 1717, 'eight_1', 1751, 'd4,Nf6,Nc3,e6,a3,d5,Nf3,c5,Bf4,Nc6,h3,Bd7,Nb5,Rc8,Nd6+,Bxd6,Bxd6,cxd4,Nxd4,Qb6,e3', 'Nxd4,Qxd4,Qxd6', 'https://lichess.org/training/H05bL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h07Ij', 'Rapid', 'OmarMahmoud1962', 1916, 'meowmasterIX', 2008, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,d3,h6,Qd2,a6,Nh4,d6,Nf5,Bxf5,exf5,Qd7,Ne4,Qxf5,Nxc5,dxc5,Qe3,Nd4,Bb3,Rad8,c3,Ng4,Qe4,Qxe4,dxe4,Ne2+,Kh1,c4,Bxc4', 'Nxf2+,Rxf2,Rd1+,Rf1,Rxf1#', 'https://lichess.org/training/h07Ij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h07oV', 'Blitz', 'unpotumblr', 2342, 'CM LegendaryOM', 2375, 'd4,Nf6,c4,g6,Nf3,Bg7,g3,d6,Bg2,O-O,O-O,Nc6,Nc3,e5,d5,Ne7,e4,Nd7,Ne1,f5,Nd3,Nf6,b4,f4,c5,g5,a4,g4,gxf4,exf4,Bxf4,Nh5,Bd2,Ng6,cxd6,cxd6,Rc1,Ne5,Nxe5,Bxe5,f4,Nxf4,Bxf4,Bxf4,Rxf4,Rxf4,e5,dxe5,d6,Rd4,Bd5+,Kg7,Qf1,Qf6,Qxf6+,Kxf6,Rf1+,Bf5,Be4,Rxd6,Rxf5+,Kg7,Nd5,Rad8,Rxe5,R8d7,Kg2,b6,Kg3,Rh6,Rg5+,Kf8,Rxg4,Rg7,h4,Rxg4+,Kxg4,Re6,Kf5,Rh6,Kg5,Re6,Nf6,Kg7,Bxh7,Re5+,Bf5,a5,bxa5,Rxa5,Nh5+,Kh8,Nf4,Rxa4,h5,Ra1,h6,Rh1,Ng6+,Kg8,Be6+,Kh7,Nf8+,Kh8,Bf7,b5,Bh5,b4,Bf7,Rg1+,Kh5,Rh1+,Kg6,Rg1+,Kh5,Rh1+,Kg5,Rg1+,Kf4', 'Rf1+,Kg4,Rxf7', 'https://lichess.org/training/h07oV');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 16;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet17 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h08zG', 'Rapid', 'AlMih2020', 1689, 'rahmadembun17', 1699, 'e4,e5,Nf3,Bc5,Bc4,Nf6,Nc3,Nc6,O-O,O-O,d3,d6,Bg5,a6,Nd5,b5,Bb3,Nd4,Nxf6+,gxf6,Bh6,Nxb3,axb3,f5,Bxf8,Qxf8,exf5,Bxf5,Nh4,Bd7,Qh5,Qg7,Kh1', 'Bg4,Nf5,Bxh5', 'https://lichess.org/training/h08zG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h08ZI', 'Blitz', 'FM ElAdversario', 2578, 'GM Obiwankanoebi', 2569, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,Qe2+,Qe7,Qxe7+,Bxe7,O-O,O-O,Bf4,c6,Re1,Re8,Nbd2,Nbd7,h3,Nf8,Ne5,Ng6,Bh2,Nxe5,dxe5,Nd7,c3,Nc5,Bc2,a5,f4,g6,Nf3,Bd7,g4,a4,f5,gxf5,gxf5,Ne4,Nd4,Bc5,Rf1,a3,Bxe4,axb2,Rab1,dxe4,Rxb2,Ra3,Rxb7,Bc8,Rb3,Rxa2,Kh1,e3,Re1,Bxd4,cxd4,Bxf5,Rbxe3,h5,Rg1+,Kh7,Bf4,Be6,Rg5,Bd5+,Kg1,Rb8', 'Rxh5+,Kg7,Rg3+,Kf8,Rh8+', 'https://lichess.org/training/h08ZI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h0HXQ', 'Rapid', 'psouza1501', 1980, 'Ferreiracj', 1833, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,O-O,O-O,Re1,d6,h3,Re8,a3,Bf8,d4,exd4,Nxd4,Ne5,Bb3,b6,Bg5,Bb7,Bd5,c6,Bb3,h6,Bh4,Be7,Nf5,Ng6,Nxe7+,Qxe7,Bg3,Ne5,f4,Ned7,e5,dxe5,fxe5,Nd5,Nxd5,cxd5,Bxd5', 'Qc5+,Bf2,Qxd5,Qxd5,Bxd5', 'https://lichess.org/training/h0HXQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H0JHm', 'Rapid', 'lavry', 1979, 'GiveMoreThanTake', 1818, 'c4,c5,g3,Nf6,Bg2,e6,e4,d5,e5,Nfd7,f4,Nb6,cxd5,exd5,d3,Nc6,Ne2,Bg4,Nbc3,Nd4,h3,Nf3+,Kf2,c4,d4,Nxd4,Qxd4,Bxe2,Kxe2,Rc8,Be3,Bc5,Qd2,d4,Bxd4,Bxd4,Ne4,O-O,Nd6,Bxb2,Qxb2,Na4,Qb4,c3,Rac1,Re8,Rhd1,c2,Rd4,Nc3+,Kf2,Nd1+,Rdxd1,cxd1=Q,Rxd1,Rc2+,Kg1,Re6,Qb3,Qc7,Bd5', 'Qc5+,Kh1,Qf2,Qxc2,Qxc2', 'https://lichess.org/training/H0JHm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h0JLg', 'Blitz', 'BlueSkefiye', 1839, 'nasserhajjar', 1727, 'e4,e5,f4,Nc6,d3,Bc5,Nf3,Nf6,c3,O-O,Nbd2,d5,exd5,Nxd5,Nb3,Bb6,fxe5,Re8,d4,Bg4,h3,Bxf3,Qxf3,Nxe5,dxe5,Rxe5+,Be2,Qe7,Bd2,Re8,Nd4,Bxd4,cxd4,Re4,O-O,Rxe2,Bg5,Qxg5', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/h0JLg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H0kAr', 'Rapid', 'igrenami', 1918, 'GMjourney', 1853, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,Nf6,O-O,Bg4,h3,Bxf3,Qxf3,a6,a4,Ne5,Qe2,Nxc4,Qxc4,Rc8,Qe2,e6,Bf4,Be7,Rfd1,Qc7,Rac1,Qb8,e5,dxe5,Bxe5,Qa8,Bxf6,Bxf6,Nd5,Rxc1,Rxc1,Bd8,Qg4,O-O,Nf4,Kh8,h4,b5,axb5,axb5,h5,Qe4', 'Ng6+,hxg6,Qxe4', 'https://lichess.org/training/H0kAr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h0pAJ', 'Rapid', 'aminpersion', 2169, 'echecetmat45', 2135, 'd4,d5,Bf4,e6,e3,c5,c3,Bd6,Bg3,Ne7,Bd3,b6,Nf3,Nbc6,O-O,O-O,Nbd2,f6,e4,e5,exd5,Nxd5,Be4,Nde7,dxe5,fxe5,Nxe5,Bb7,Nxc6,Bxc6,Bxd6,Qxd6,Bxc6,Qxc6,Nc4,Rad8,Qe2,Ng6,Ne5,Qe6,Rfe1,Rde8,Qc4', 'Nxe5,Qxe6+,Rxe6', 'https://lichess.org/training/h0pAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h0qpn', 'Blitz', 'FM Oscar-i', 2309, 'morronga', 2013, 'd4,e6,e4,c5,d5,Nf6,Nc3,d6,Bb5+,Bd7,a4,a6,Bxd7+,Qxd7,Nf3,e5,O-O,Be7,Nd2,Qc7,Nc4,Nbd7,a5,b5,axb6,Nxb6,Na5,O-O,Bg5,h6,Bxf6,Bxf6,Qe2,g6,Nc6,c4,f4,exf4,Rxf4,Bg7,Raf1,Rae8,h4,Bxc3,bxc3,Nxd5,R4f3,Qxc6,exd5,Qxd5,Qf2,h5,Qg3,Qe5,Qf2,Re7,Rf4,d5,Rd4,Rd8,Qf6,Qxf6,Rxf6,Re3,Rxa6,Rxc3,g4,hxg4,Rxg4,Rxc2,h5,Kg7,hxg6,f6,Ra7+,Kh6', 'Rh7#', 'https://lichess.org/training/h0qpn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H0QTr', 'Rapid', 'Boera3689', 2123, 'shadow314', 2070, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,O-O,c4,d5,Nc3,c5,dxc5,Qa5,Qd2,dxc4,Bxc4,Rd8,Qc2,Bf5,Qb3,Ne4,O-O,Nxc5,Bxf7+,Kh8,Qc4', 'Bd3,Ne5,Bxc4', 'https://lichess.org/training/H0QTr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h0vWo', 'Rapid', 'tattater23', 1615, 'FiLoX', 1615, 'c4,e5,e3,Nf6,Nc3,Bb4,Nd5,Nxd5,cxd5,O-O,e4,d6,Qb3,Bc5,Qc3,Qf6,Nf3,Bg4,Be2,Bxf3,Bxf3,Na6,a3,Rac8,b4', 'Bd4', 'https://lichess.org/training/h0vWo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h0xQ0', 'Rapid', 'ISyrinx', 1824, 'Migueluno', 1967, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,O-O,Nf3,d6,O-O,a5,Bg5,Na6,a3,Bf5,Nc3,Rb8,Qd2,Ne4,Nxe4,Bxe4,Nh4,Bxg2,Kxg2,Qd7,Bh6,Qc6+,Nf3,Qxc4,Bxg7,Kxg7,Rac1,Qd5,h4,c6,Rh1,h5,Rce1,Qe4,Kh2,Qf5,Qc3,f6,e4,Qg4,Kg2,Nc7,Nh2,Qd7,f3,a4,Rhg1,Nb5,Qe3,e5,d5,Nd4,Qd3,cxd5,exd5,Rbc8,Rc1,Rxc1,Rxc1,Rc8,Rc3,b5,f4,Re8,fxe5,Rxe5,Qxd4,Re2+,Kg1', 'Qh3,Qa7+,Kh6,Qe3+,Rxe3', 'https://lichess.org/training/h0xQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h0y72', 'Blitz', 'maf1962', 1695, 'paullb', 1599, 'e4,e6,Ne2,d5,e5,f6,exf6,Nxf6,b3,Nc6,Bb2,e5,d4,e4,Nf4,g5,Nh5,Bg4,Nxf6+,Qxf6,Qxg4,h5,Qe2,Nxd4,Bxd4,Qxd4,c3,Bb4,Qb5+,c6,Qxb4,Qe5,Be2,O-O-O,O-O,g4,Qa5,Rdg8,Qxa7,h4,Qa8+,Kc7,Qa5+,Kd6,Qb6,h3,g3,e3,Qxe3,Qf5,b4,Re8,Qc5+,Kc7,Qa5+,Kd6,Bd1,Qe4,f3,gxf3,Bxf3,Qe3+,Kh1', 'Qxf3+,Rxf3,Re1+,Rf1,Rxf1#', 'https://lichess.org/training/h0y72');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H0yGA', 'Rapid', 'Lezhachiy', 1815, 'moh1976', 1776, 'e4,e5,Nf3,d6,Bd3,Nc6,Nc3,Be6,Bb5,Nf6,d3,Be7,Bd2,Qd7,O-O,Bg4,Nd5,O-O-O,c4,h6,a4,g5,a5,h5,Bxg5,h4,Bxf6,Bxf6,Nxf6,Qe6,Nxg4,Qxg4,h3,Qg6,a6,Rdg8,axb7+,Kxb7,Bxc6+,Kxc6,Qa4+,Kb7,Qxa7+,Kc8,Qa8+,Kd7,Qa4+,Ke7,Nxh4,Rxh4,g3,Rxh3,Rfd1,Rgh8,Kf1,Qg4,Ke1,Qf3,Qc2', 'Rh1+,Kd2,Qxf2+,Kc3,Qd4+', 'https://lichess.org/training/H0yGA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H10mf', 'Rapid', 'kohpyma', 1763, 'niksciferkami', 1777, 'e4,c5,e5,d6,Bc4,dxe5,c3,a6,Qh5,e6,Qxe5,Nc6,Qg3,Nf6,d3,g6,Bg5,Bg7,Bxf6,Bxf6,Nd2,O-O,Ne4,Bg7,Nxc5,b5,Bb3,Re8,O-O-O,Qb6,Ne4,b4,h4,bxc3,Nxc3,Bxc3,bxc3,a5,Bc2,Ba6,h5,Ne7,h6,Rab8,Qg5,Qxf2,Nf3,Kf8,Qf6,Nd5,Qg7+,Ke7,Rhe1,Nxc3,Qxc3,Rec8,Qd2,Qb6,Qg5+,f6,Rxe6+,Kxe6,Re1+,Kf7,Qd5+,Kf8,Re6,Qb2+,Kd2,Qxc2+,Ke3,Qc5+,Qxc5+,Rxc5,Rxf6+,Ke7,Rxa6,Rb2,Ra7+,Kd6,Rxh7,Rxg2,Rg7,Rh5,h7,Rh6,Nd4,Rxa2', 'Rxg6+,Rxg6,h8=Q', 'https://lichess.org/training/H10mf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h1118', 'Rapid', 'BLOOMERGROB', 1749, 'UrielSpb', 1807, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Nf6,Ng5,Ne5,Bb3,d5,d4,Nc4,Bxf4,Bg4,Qd3,Bd6,e5,Qe7,O-O,Nxb2,Qb5+,c6,Qa5,Bc7', 'exf6,Bxa5,fxe7', 'https://lichess.org/training/h1118');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h11Z1', 'Rapid', 'GGGETULIO', 1813, 'LeonJohnSilver', 1923, 'd4,d5,c4,c6,Nf3,Bf5,e3,h6,h4,Nf6,Bd3,Ne4,cxd5,cxd5,Bxe4,Bxe4,Nbd2,Bh7,O-O,Nc6,a3,Rc8,b4,a6,Bb2,e6,Rc1,Bd6,Qa4,O-O,b5,axb5,Qxb5,Qc7,g3,f5,Nb3,Bxg3,Nc5,Rf6,h5,b6,Nd3,g6,Nde5,gxh5,Rxc6,Qd8,Rxc8,Qxc8,Rc1,Qf8,fxg3,f4,exf4,Kh8,Nd7,Qg7,Rc8+,Bg8,Kf2,Rg6,Rxg8+,Qxg8,Qxb6,Rxg3,Nf6,Rg2+,Ke3,Qf7,Qd8+,Kg7,Ne8+,Kh7,Nd6,Qa7,Qf6,Rxb2,Nf7', 'Qxa3#', 'https://lichess.org/training/h11Z1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H14Oo', 'Classical', 'ntozx', 1852, 'afarewelltoarms', 1888, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Qd3,b6,Bg5,Ba6,Nb5,Nc6,Nd6+,Bxd6,Qxd6,Bxf1,Rxf1,h6,Bxf6,Qxf6,O-O-O,Rd8,Nb5', 'Qg5+,f4,Qxb5', 'https://lichess.org/training/H14Oo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h15E3', 'Classical', 'naeemi20', 1648, 'Potrafke', 1700, 'e4,c5,Bc4,g6,Qf3,e6,e5,Bg7,Qe3,Qc7,Nf3,Ne7,d3,Nf5,Qe2,O-O,Nc3,Nc6,Nb5,Qd8,a3,a6,Nc3,Qc7,Bf4,b5,Ba2,Ncd4,Nxd4,Nxd4,Qd1,Bxe5,Bxe5,Qxe5+,Ne4,f5,O-O,fxe4,Re1,Qg5,c3,Nf5,dxe4,Bb7,g3,Nd6,Bb1,Nc4,Qxd7,Qd2,Qxe6+,Kh8,Ba2,Nxb2', 'Qe5+,Rf6,Qxf6#', 'https://lichess.org/training/h15E3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h17kk', 'Rapid', 'Bassem_yassen', 2009, 'mark_ramzy2277', 1928, 'e4,e5,c3,d5,d4,dxe4,d5,c6,c4,Bb4+,Bd2,Bxd2+,Qxd2,Nf6,Nc3,Na6,Nge2,Nb4,Ng3,cxd5,cxd5,Nbxd5,Ncxe4,Bf5,Bb5+,Bd7,Nd6+,Ke7,Ngf5+,Bxf5,Nxf5+,Kf8,O-O,g6', 'Qh6+,Kg8,Qg7#', 'https://lichess.org/training/h17kk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h1aDc', 'Rapid', 'babyjohnny', 2002, 'Spadille', 2091, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Nf3,Bg4,Be2,e6,O-O,Nge7,Be3,Nf5,Nbd2,cxd4,Bxd4,Be7,h3,Bh5,g4,Nfxd4,Nxd4,Bg6,Bb5,Qc7,f4,Bc5,Qe2,O-O,Bxc6,bxc6,f5,exf5,gxf5,Bh5,Qxh5,Qxe5,Nf3,Qe3+,Kh1,g6,Qg4,Kh8,Rae1,Qh6,fxg6,Rg8,Qg3,Rxg6,Qe5+,f6,Qe3', 'Qxh3+,Nh2,Qg2#', 'https://lichess.org/training/h1aDc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H1Ape', 'Rapid', 'panos121', 1700, 'Svinqva1', 1698, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Bg4,h3,Bh5,g4,Bg6,d3,Nc6,Be3,Nf6,Qd2,e6,O-O-O,O-O-O,d4,a6,Ne5,Nxe5,d5,Be7,Bg2,Nc4,Qe1,e5,Bg5,h6,Bxf6,Bxf6,Ne4,Qb6,Qc3,Bxe4,Bxe4,Qxf2,Qxc4,Qe3+,Kb1,b5,Qd3,Qb6,Bf5+,Kb8,c4,Rhe8,Be4,g6,cxb5,axb5,Rc1,Bg5,Rc2,f5,Rc6,Qb7,gxf5,gxf5,Bxf5,e4,Bxe4,Rd7,Re1', 'Qxc6,dxc6,Rxd3,Bxd3,Rxe1+', 'https://lichess.org/training/H1Ape');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H1CFf', 'Classical', 'sur64', 1905, 'schaakcatur', 1776, 'e4,e6,d4,d5,Nc3,Bb4,Qg4,Nf6,Qxg7,Rg8,Qh6,Nxe4,Qxh7,Nf6,Qh6,Bf8,Qh4,Rg4,Qh8,c5,Bh6', 'Rg8,Qxg8,Nxg8', 'https://lichess.org/training/H1CFf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h1Fi6', 'Rapid', 'Vitus', 1826, 'svi1803', 1854, 'd4,Nf6,c4,e6,Nc3,d6,Nf3,Nbd7,Bf4,Be7,e4,c5,e5,dxe5,dxe5,Nh5,Bd2,g6,Be2,Ng7,O-O,O-O,Bh6,Qc7,Bf4,Nh5,g3,a6,Bh6,Rd8,Nh4,Nxe5,Bxh5,Rxd1,Raxd1,gxh5,f4,Nxc4,f5,Bxh4,fxe6,f6,Nd5,Qe5', 'Ne7+,Kh8,Rd8#', 'https://lichess.org/training/h1Fi6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H1Jec', 'Blitz', 'PerroMuertoEnSalsa', 2501, 'NM Re_dei_matti', 2437, 'e4,d5,exd5,Nf6,d4,Bg4,Bb5+,Nbd7,Be2,Bxe2,Qxe2,Nxd5,c4,N5f6,Nf3,g6,O-O,Bg7,Re1,O-O,Qxe7,c5,d5,b5,Nc3,bxc4,Bg5,Qb6,Qe2,Qb7,Qxc4,Nb6,Qxc5,Nfxd5,Nxd5,Nxd5,Rad1,Nf6,b3,Ne4,Qe3,Nxg5,Qxg5,Qa6,Qd2,Rac8,Rc1,Rcd8,Qe2,Qa3,Rc2,h6,g3,Qa5,Kg2,g5,h3,f5,Qe6+,Kh8,Ne5,Rf6,Qe7,Qd5+,Kh2,f4,g4,f3,Rec1,Qd4,Qxd8+,Kh7,Rc8', 'Qxf2+,Kh1,Qg2#', 'https://lichess.org/training/H1Jec');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H1Lgm', 'Rapid', 'AliEslami', 1775, 'buihuuduc', 1682, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,a6,Bd3,b5,O-O,c4,Bc2,b4,Bf4,a5,Ba4,Bd7,Re1,Nge7,Bg5,Qc7,Nbd2,h6,Be3,Nf5,Bc2,Nfe7,cxb4,axb4,Nf1,Ng6,Bxg6,fxg6,Qc2,O-O-O,Qxg6,Ne7,Qc2,Nf5,Bd2,Qb6,Be3,Kc7,a4,Ra8,b3,c3,Ra2,g5,h3,Rg8,g4,Ne7,Rea1,Bg7,Ng3,Be8,a5,Qb5,Ne1,Nc6,Nd3,Rxa5,Rxa5,Nxa5,Nc5,Bf7,Qa2,Ra8,f4,Bf8,f5,Bxc5,dxc5,Kb7,fxe6,Bxe6,Qc2,Nc6', 'Qh7+,Kb8,Qh8+,Bc8,Rxa8+,Kxa8,Qxc8+', 'https://lichess.org/training/H1Lgm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H1lxh', 'Rapid', 'modo567', 1870, 'jean_marcel', 1807, 'e4,c5,Bc4,e6,Nf3,g6,O-O,Bg7,c3,Ne7,d4,cxd4,cxd4,O-O,Ne1,d5,exd5,exd5,Bb3,Nbc6,Be3,Nf5,Nc3,Ncxd4,Bxd4,Nxd4,Bxd5,Be6,Bxe6,fxe6,Qg4,b5,Rd1,e5,Nxb5,h5,Qxg6', 'Ne2+,Kh1,Qxd1', 'https://lichess.org/training/H1lxh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h1M0n', 'Rapid', 'aries1980', 2037, 'monged02', 1885, 'd4,d5,Nf3,Nc6,e3,Bg4,Be2,Nf6,O-O,e6,Nbd2,Bb4,c3,Ba5,Qa4,a6,b4,Bb6,Qb3,Ne4,h3,Bh5,Re1,Qf6,Nxe4,dxe4,Nd2,Bg6,c4,O-O-O,c5,Ba7,Bb2,Nb8,b5,Bxc5,bxa6,Nxa6,Nc4,Ba7,Na5,Bb6,Nc4,Ba7,Rec1,Qe7,Ba3,c5,dxc5,Qc7,Nb6+,Kb8,Bxa6,bxa6,Rab1,Bxb6,cxb6,Qb7,Rc7,Qd5,Rc5,Qxb3,Rxb3,Rc8,Rbc3,Kb7,Rxc8,Rxc8,Rxc8,Kxc8,Bb4,Kb7,Ba5,Kc6,Kf1,Bf5,Ke2,e5,Kd2,Bc8,a4,Kc5,Kc3,f6,h4,h6,g3,g5,Kb3,h5,Kc3,gxh4,gxh4,f5,Kb3,f4,Kc3,f3,Kb3,Bb7,Kc3,Bc8,Kb3,Kc6,Kc4,Bb7,Kb4,Kd5,Kc3,Kc5,Kb3,Bd5+,Kc3,Bb7,Kb3,Kd6,Kc4,Ke6,Kc5,Kf5,Kd6,Kg4,Kc7,Bd5,Kd6,Ba8,Kc7,Kxh4,b7,Bxb7,Kxb7,Kh3,Bc7', 'Kg2,Kxa6,Kxf2', 'https://lichess.org/training/h1M0n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H1su5', 'Rapid', 'DrOdnat', 1613, 'citizenT', 1602, 'e4,e6,d4,d5,exd5,exd5,Nc3,Bb4,Bf4,Nf6,Bb5+,Nc6,Nf3,Bg4,a3,Bxc3+,bxc3,O-O,O-O,Ne4,Qd3,Bf5,Ne5,Nxe5,Bxe5,Nd6,Qe2,Nxb5,Qxb5,Bxc2,Qxb7,Be4,f3,Bg6,Bxc7,Qe7,Rfe1,Qg5,Bg3,h5,Re5,Qd2,Be1,Qc2,Qxd5,Rab8,Qa2', 'Rb2,Qxb2,Qxb2', 'https://lichess.org/training/H1su5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h1u8p', 'Rapid', 'net_knight', 1658, 'Jozef1946', 1682, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,a6,Bc4,h6,h3,Nf6,Nf3,Nc6,d5,Na5,b3,Nxc4,bxc4,e6,O-O,Bb4,Bb2,O-O,dxe6,Bxe6,a3,Bc5,Na4,Bd6,c5,Bf4,Nd4,Qc8,Re1,Bxh3,Qf3,Qg4,Qxh3,Qxh3,gxh3,Rfe8,Rxe8+,Rxe8,c6,b6,Nc3,Be5,Nf3,Bd6,Re1,Rd8,Na2,a5,a4,Nd5,Nc3,Nb4,Ne4,Nxc2,Re2,Nb4,Nxd6,Rxd6,Nh4,Rxc6,Nf5,Rg6+,Kh2,Rg5,Ne7+,Kf8,f4,Rc5,Bd4,Rc4,Re4,c5', 'Bxg7+,Kxg7,Rxc4', 'https://lichess.org/training/h1u8p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h1UoH', 'Rapid', 'anthony234', 1769, 'kepler124', 1801, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nge7,Bg5,f6,Qh5+,Ng6,Nxc6,dxc6,Be3,Be7,Bc4,Qd6,Bb3,Be6,Bxe6,Qxe6,O-O,Qxe4,Nc3,Qxc2,Rfe1,O-O,Bc5,Bxc5,Qxc5,Qxb2,Rad1,Qb6,Qf5,Qb2,Qe6+,Kh8,Rc1,Rae8', 'Qxe8,Qxc1,Qxf8+,Nxf8,Rxc1', 'https://lichess.org/training/h1UoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h1VEf', 'Blitz', 'Anplayschess', 1946, 'SAITAMA2006', 1914, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Be7,Nf3,Nd7,c3,Ngf6,Ng3,c5,Bd3,O-O,O-O,cxd4,cxd4,b6,Bg5,Bb7,Bc2,Rc8,Qd3,Bxf3,gxf3,g6,Bh6,Re8,Ne4,Qc7,Rac1,Qb7,Qe3,Nd5,Qd2,Bf8,Bxf8,Nxf8,Nd6,Qe7,Nxc8,Rxc8,Qe2,Qh4,Qe4,Qh3,Qg4,Qh6,a3,f5,Bxf5,Rxc1', 'Bxe6+,Kg7,Bxd5,Rxf1+,Kxf1', 'https://lichess.org/training/h1VEf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h1wHR', 'Classical', 'bahman25', 1805, 'Crackrazor', 1764, 'd4,d5,c4,e6,e3,a6,c5,b6,cxb6,cxb6,Qa4+,Bd7,Qb3,Nf6,Nc3,Nc6,Nf3,Na5,Qc2,Rc8,Bxa6,Bd6,O-O,b5,Bxc8,Qxc8,Qe2,O-O,Nxb5,Qa6,a4,Bb4,Ne5,Be8,Qf3,Nb3,Ra2', 'Bxb5,axb5,Qxa2', 'https://lichess.org/training/h1wHR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h1Yn3', 'Rapid', 'Shadow-G', 1829, 'Galatafisherman', 1816, 'e4,e5,Nf3,Nc6,Nc3,Nd4,Nxe5,Qf6,Ng4,Qb6,Bc4,Bb4,Nd5,Qc6,c3,Qxc4,cxb4', 'Nc2+,Qxc2,Qxc2', 'https://lichess.org/training/h1Yn3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h1Yxm', 'Blitz', 'CheoLeon', 1548, 'Enmerkar', 1527, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Re1,d6,h3,O-O,c3,h6,Bb3,Nh7,d4,exd4,cxd4,Ng5,d5,Nxf3+,Qxf3,Ne5,Qe2,Kh8,f4,Ng6,Be3,f5,Nc3,fxe4,Nxe4,Nxf4,Bxf4,Rxf4,Qe3,Rf5,Bc2,Re5,Qd3,Bf5,g4,Bh7,Rac1,Bh4,Re2,Qe7,Rf1,Re8,Qf3,Bxe4,Bxe4,Rxe4,Rc2,Qf6,Qxf6,Bxf6,Rxc7,Bd4+,Kg2,Re2+,Kg3,Be5+,Kh4,Bf6+,Kg3,R8e3+,Kf4,Bg5+,Kf5,Re5+,Kg6,Re1,Rc8+,Re8', 'Rf8+,Rxf8,Rxf8#', 'https://lichess.org/training/h1Yxm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H23JI', 'Rapid', 'mmaattrriixx', 1707, 'yonioliel1', 1770, 'e4,Nf6,e5,Nd5,d4,d6,exd6,exd6,c4,Nb6,Be3,Be7,Bd3,Nc6,Nf3,Bg4,h3,Bh5,O-O,O-O,a3,Bf6,Nbd2,Bxd4,Bxd4,Nxd4,g4,Nxf3+,Qxf3,Bg6,Bxg6,fxg6,Qxb7,Qg5,Ne4,Qh4,Kg2,h5,f3,Nxc4', 'Qd5+,Kh8,Qxc4', 'https://lichess.org/training/H23JI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h25Pt', 'Rapid', 'Alfaceto-glutarico', 2182, 'gammalgnu', 2014, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,Nc6,Nb3,Bd7,Qd2,h5,a3,Be6,h4,Bxb3,cxb3,a6,Rd1,Ne5,Be2,b5,O-O,Rc8,b4,Nc4,Bxc4,Rxc4,Bd4,O-O,Ne2,Qc8,Bc3,Nd7,Qg5,Bxc3,bxc3,Nf6,Rd3,Re8,Rc1,Nd7,Ng3,Kh7,Nxh5,gxh5,Qxh5+,Kg7,f4,Rg8', 'Rg3+,Kf8,Qh6+,Ke8,Rxg8+', 'https://lichess.org/training/h25Pt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2A3a', 'Blitz', 'lincoln1588', 1856, 'Carlsenpov', 1841, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be3,Nc6,Qd2,b5,f3,Bb7,O-O-O,Bb4,g4,Nge7,h4,O-O-O,a3,Ba5,b4,Bb6,Ndxb5,Bxe3,Qxe3,axb5,Nxb5,Qb8,Nd6+,Kc7,Nxf7,Qa7,Qxa7,Nxa7,Nxh8,Rxh8,c4,d5,exd5,exd5,c5,Bc6,Kb2,Nb5,a4,Na7,b5,Rb8,Kc3,Bxb5,axb5,Nxb5+,Bxb5,Rxb5,Kd4,Rb4+,Ke5,Kd7,Rb1,Nc6+,Kxd5,Ne7+,Ke5,Nc6+,Kf5,Ne7+,Kg5,Rc4,Rhd1+,Ke8,Rb8+,Kf7,Rb5,Ng6,h5', 'h6+,Kf5,Rf4#', 'https://lichess.org/training/h2A3a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2a7q', 'Classical', 'MarcusBayern', 1753, 'Knightfury76', 1776, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Nc6,Qe2+,Be7,d4,cxd4,Nxd4,Bd7,Nxc6,bxc6,Bd3,Qa5+,Bd2,Qc5,O-O,Nf6,Re1,Be6,a3,O-O', 'Bb4,Qb6,Bxe7', 'https://lichess.org/training/h2a7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H2b1g', 'Classical', 'wild-king-winner', 1939, 'reza2028', 1924, 'e4,d6,Nf3,Bg4,Be2,c6,d4,Nf6,Qd3,Bxf3,Qxf3,Nbd7,c4,g6,Nc3,Bg7,Be3,e5,h4,h5,Qg3,Qa5,dxe5,Nxe4,Qf3,Nxc3,Bd2,Bxe5,Bxc3,Bxc3+,Qxc3,Qxc3+,bxc3,O-O,O-O-O,Rfe8,Rhe1,d5,cxd5,cxd5,Rxd5,Nb6,Rg5,Rac8,Kd2,Rcd8+,Kc2,Nc4,Bxc4,Rxe1,Rxg6+,Kf8,Rf6,Rd7,Rf5,Rc7,Bd3,Rg1,Be4,Re7,Bf3,Ra1,Kb2,Ree1,Bxh5,Rab1+,Ka3,Re6,Rxf7+,Kg8,Rf4,Re5,Bf7+,Kg7,Bb3,Rc1,Kb2,Rg1,Rf7+,Kg6,Rxb7,Rxg2,Rxa7,Rxf2+,Ka3,Rf4,h5+,Kxh5,Rg7,Ra5+,Kb2,Rf2+,Kc1,Rc5,c4,Re5,Rg1,Re3,Kb1,Ree2', 'Bd1,Kh4,Bxe2', 'https://lichess.org/training/H2b1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2BDd', 'Rapid', 'tareqalbukhari', 1702, 'jpindian7', 1678, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,e6,O-O,Ngf6,d4,Bd6,Bg5,Qc7,Re1,h6,Bh4,O-O,Bg3,Bxg3,hxg3,Rac8,c3,Ne4,Nbd2,Ndf6,Ne5,Nxd2,Qxd2,Ne4,Qf4,Nf6,g4,Qb6,Rab1,Qd8,g5,hxg5,Qxg5,Ne4,Qg4,Qg5', 'Rxe4,Qxg4,Rxg4', 'https://lichess.org/training/h2BDd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2C0l', 'Rapid', 'GameBuster', 2414, 'Ellin', 1802, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,cxd5,Nxd5,Nc3,a6,Nf3,Bg4,h3,Bh5,Bc4,Nxc3,bxc3,e6,O-O,b5,Be2,Be7,Ne5,Bxe2,Qxe2,O-O,Qe4,Qd5,Qxd5,exd5,Re1,Bf6,Bf4,Bxe5,Bxe5,Nd7,Bf4,Rfe8,Re3,Rxe3,Bxe3,Rc8,Bd2,Nb6,Re1,Kf8,Bf4,Rd8', 'Bc7,Rd7,Bxb6', 'https://lichess.org/training/h2C0l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2CJP', 'Classical', 'Luigi_N95', 1686, 'ChristosTsek', 1668, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,a4,a6,c3,Bg4,b4,Ba7,Nbd2,Qd7,Re1,O-O,Nf1,h6,Ng3,Nh5,Nxh5,Bxh5,h3,Kh7,g4,Bg6,Nh4,Nd8,Be3,Bxe3,fxe3,Ne6,Rf1,Ng5,Kg2,Qe7,Rf2,Kh8,Qe2,Bxe4+,dxe4,Nxe4,Nf5,Qg5,Rf3,Nxc3,Qd3,e4,Qxc3,exf3+,Kxf3,Rae8,h4,Qf6,Qxf6,gxf6,Nxh6,Re7,Nf5,Re5,Rh1,Kh7,Kf4,Rfe8,g5', 'Re4+,Kf3,Rxc4', 'https://lichess.org/training/h2CJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H2EuM', 'Rapid', 'Mitsuplik', 1969, 'chesster78', 1932, 'd4,e6,c4,Nf6,Nc3,Be7,Bf4,d5,e3,a6,h3,O-O,Nf3,Nbd7,cxd5,Nxd5,Nxd5,exd5,Rc1,c6,Bd3,Nf6,O-O,Bd6,Bh2,Qc7,Qb3,Be6,Ne5,Nd7,Nxd7', 'Bxh2+,Kh1,Bxd7', 'https://lichess.org/training/H2EuM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2GH0', 'Classical', 'KGMowafy', 1764, 'Mojo32', 1719, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Nc6,Qf3,e5,Nf5,Ne7,Nxe7,Bxe7,Nd5,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/h2GH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H2Jnz', 'Rapid', 'majedmaghdab', 1641, 'Dragoonerr', 1626, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,h6,O-O,O-O,d4,exd4,cxd4,Bb6,e5,Ne8,Nc3,d6,exd6,cxd6,Bf4,Be6,Bxe6,fxe6,Bg3,d5,Qe2,Qd7,Ne5,Nxe5,Bxe5,Nd6,Rfe1,Nc4,b3,Nxe5,Qxe5,Rae8,Re2,Ba5,Na4,b6,Rae1,Bxe1,Rxe1,Qf7,Rf1,Qf6,Qe3,e5,dxe5,Qxe5,Qd3,g5,Nc3,Rf5,g3,Rc8,Nb5,a5,Nd6,Rc3', 'Qxf5,Qxf5,Nxf5', 'https://lichess.org/training/H2Jnz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H2jqt', 'Blitz', 'andyKun17', 1953, 'frommoscowwithlove', 1912, 'e4,d6,d4,g6,Nc3,Bg7,Bc4,Bd7,Nf3,Nc6,O-O,Qc8,e5,h5,exd6,cxd6,Bxf7+,Kxf7,Ng5+,Ke8,Qf3,Nf6,d5,Nd4,Qe4,Nxe4,Ncxe4,Nxc2,Bf4,Nxa1,Rxa1,Bf5,Re1,Bxe4,Nxe4,Qf5,Nxd6+,Kd7,Nxf5,gxf5,h3,Bxb2,Rb1,Bf6,Rxb7+,Ke8,g3,Rd8,Rxa7,Rxd5,a4,Kf7,a5,Be5,Bg5,Rg8,Rxe7+,Kg6,h4,Bf6,Re6,Rf8,a6,Ra5,Kg2,Kg7,Rb6,Bxg5,hxg5,Ra8,Rh6,R5xa6,Rxh5,Rg6,f4,Ra2+,Kf3,Ra3+,Kg2,Rc6,Rh1,Rc2+,Kh3,Raa2,g4,Ra3+,Kh4,fxg4,Kxg4,Rg2+,Kf5,Rf3,Rd1,Rgf2,Rd4,Ra3,Kg4,Raa2,Kf5,Ra5+,Kg4,Rg2+,Kf3,Rh2,Kg4,Raa2,Kf5,Ra5+,Kg4,Ra8,Rd7+,Kg6,Rd6+,Kf7,g6+,Ke7,Rb6,Rg2+,Kf5,Ra5+,Ke4,Re2+,Kf3,Rea2,Kg4,Rg2+,Kf3,Raa2,Ke4,Rae2+,Kf5,Rgf2,Kg4,Rg2+,Kf3,Ref2+,Ke4,Ra2,Rb7+,Kf6,Rb6+,Kg7,f5,Rae2+,Kf4,Rgf2+,Kg5,Rg2+,Kf4,Ref2+,Ke5,Rg4,Rb7+,Kg8,Ke6,Re2+,Kf6,Rf4', 'Rb8+,Re8,Rxe8#', 'https://lichess.org/training/H2jqt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H2JXV', 'Classical', 'Ena_pa_2020', 1721, 'jonjons', 1880, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Nbd7,Bd3,dxc4,Bxc4,b5,Bd3,a6,O-O,c5,Re1,Bb7,e4,cxd4,Nxd4,Nc5,e5,Qxd4', 'Bxb5+,axb5,Qxd4', 'https://lichess.org/training/H2JXV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H2MrO', 'Rapid', 'Kreon129', 1774, 'salko123', 1913, 'd4,d5,c4,e6,cxd5,exd5,e3,Bf5,Bd3,Bxd3,Qxd3,c6,Ne2,Nf6,Nbc3,Bb4,O-O,O-O,Qc2,Bd6,f3,Re8,e4,dxe4,fxe4,Ng4,e5,Bc7,Qf5,Qd7,Ng3,g6,Qf3,Bb6,h3,Bxd4+,Kh1,Nxe5,Qf4,Na6,Nge2,c5,Nxd4,cxd4,Ne4,Qe6,Nf6+,Kf8,Qh6+,Ke7,Nxe8,Rxe8,Bg5+,Kd7,Rad1,d3,Rfe1,Qd5,Qxh7,Nc5,Bf4,Ne4,Rxe4,Qxe4,Bxe5,Rxe5,Qxf7+,Re7,Qf1,Qe2,Qxe2,Rxe2,Rxd3+,Kc6,Rc3+,Kd5,Rb3,b6,Rb4,Kc5,a3,a5,Rb3,b5,Rc3+,Kd5,b3,Ra2,b4,axb4,axb4,Rb2,Rc5+,Ke4,Rxb5,Kf4,Rb8', 'Kg3,Rf8,Rb1+,Rf1,Rxf1#', 'https://lichess.org/training/H2MrO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H2nw9', 'Classical', 'maaac2020', 1799, 'Mikhail_Mukhin', 1818, 'd4,d5,c4,dxc4,e4,Nc6,Nf3,e5,d5,Nce7,Bxc4,c6,Nxe5,f6,Nf3,cxd5,Bxd5,Nxd5,exd5,Ne7,Nc3,Bg4,O-O,Nf5,h3,Bxf3,Qxf3,g6,g4,Nh4,Re1+,Kf7,Qg3,g5,f4,Bd6,Qf2,gxf4,Qxh4,Bc5+,Kg2,h5,g5', 'fxg5,Bxf4,gxh4', 'https://lichess.org/training/H2nw9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2Orp', 'Rapid', 'dvd94', 1984, 'ajedrez_64', 2047, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Bf4,O-O,Bd3,c5,Qd2,Nc6,O-O-O,Be6,Kb1,Qa5,a3,b5,Ng5,Bxg5,Bxg5,b4,cxb4,cxb4,Rhe1,Rab8,f4,bxa3,Qxa5,Rxb2+,Ka1,Nxa5,f5,Bb3,Bd2,Ra2+,Kb1,Rb2+,Ka1,Ra2+,Kb1,Rb8,cxb3', 'Rb2+,Ka1,Nxb3#', 'https://lichess.org/training/h2Orp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H2Ph9', 'Rapid', 'grqeeer', 1617, 'Surames', 1872, 'e4,e5,f4,exf4,Nf3,Bc5,d4,Bb6,Bxf4,d6,Nc3,Nf6,Bb5+,c6,Bd3,O-O,Qd2,Bg4,O-O-O,d5,h3,dxe4,hxg4,exd3,Qxd3,g6,Be5,Nxg4,Bf4,Nf2,Qf1,Nxd1,Nxd1,Qf6,g3,Bxd4,Qh3,h5,Nxd4,Qxd4,Qh4,Nd7,Qg5,Qf6,Qh6,Nb6,Re1,Nd5', 'Be5,Qxe5,Rxe5', 'https://lichess.org/training/H2Ph9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2PRv', 'Rapid', 'ura84', 1902, 'Nekedisjo', 2007, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Ba3,Nd7,Bc4,O-O,Ne2,c5,O-O,cxd4,cxd4,a6,e5,b5,Bd5,Rb8,Rb1,Nb6,Bb3,Bf5,Rc1,a5,Bc5,Nd5,Ng3,Be6,a4,b4,Ne4,h6,f4,Rc8,Qf3,Nc3,Bxe6,fxe6,Nxc3,bxc3,Qxc3,Qd5,Qxa5,Qe4,Qd2,Rf5,a5,Rcf8,a6,Rxf4,Rxf4,Rxf4,a7,Qd5,Ra1,Rf8,Bxe7,Re8,Bd6,Ra8,Bb8,Kh7,Rf1,Kg8,Qf2,Kh7,h4,h5,Kh1,Qe4,Rc1,Kh6,Re1,Qg4,Qf3', 'Qxh4+,Kg1,Qxe1+', 'https://lichess.org/training/h2PRv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2REA', 'Bullet', 'vorak', 1755, 'MysticThunder', 1795, 'c4,e5,g3,Nc6,Bg2,Nf6,d3,Bc5,Nc3,O-O,Nf3,d6,O-O,Re8,Qc2,a5,a3,Nd4,Nxd4,Bxd4,Nb5,Bb6,Bd2,c6,Nc3,d5,cxd5,cxd5,Rac1,Bg4,e3,Bf5,Rfd1,Rc8,Be1,Qd7,Qb3,d4,Qxb6,dxc3,Bxc3,Nd5,Qxa5,Nxc3,Rxc3,Rxc3,Qxc3,h6,d4,exd4,Qxd4,Qb5,Qd5,Qe2,Bf3,Be4,Bxe2,Bxd5,Rxd5,Rc8,Rd2,Rc1+,Kg2,Rc6,Bf3,Rb6,b4,Ra6,Rd3,Rb6,Rd7,Ra6,Rd3,Rb6,Be4,Kf8,Rb3,Ke7,f4,g6,h4,f5,Bd3,Kd6,Kf3,Kd5,e4+,fxe4+,Bxe4+,Kc4,Bc2,Rd6,a4,Rd2,Re3,Rxc2,Re6,Rc3+,Ke4,Rxg3,b5,Kb4,b6,Kxa4,Re7,Rg4,Rxb7,Kb5,Kf3,Rxh4,Rg7,Kxb6,Rxg6+,Kc5,Kg3,Rh1,Kg4,Kd4,Kf5,Ke3,Rg3+,Kf2,Rg8,h5,Kf6,Kf3,f5,Kf4,Ra8,h4,Ra4+,Ke3,Kf7,h3,f6,Rf1', 'Ra3+,Kf4,Rxh3,Kg5,Rg3+', 'https://lichess.org/training/h2REA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2SX5', 'Blitz', 'PAK_HA_GOPE-123', 2200, 'altemio', 2203, 'c3,d5,g4,Nc6,h3,e5,Bg2,h6,d3,Nf6,Nd2,Bc5,Nf1,O-O,Ng3,d4,c4,Nh7,Be4,Ne7,Nf3,Qd6,a3,a5,Rg1,a4,Bd2,Kh8,h4,f5,gxf5,Nxf5,Nh5,Rf7,Nh2,Be6,Ng4,Raf8,Qc2,c6,Nxe5', 'Qxe5,Bf4,Ne3,Bxe5,Nxc2+', 'https://lichess.org/training/h2SX5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2wnR', 'Rapid', 'PavelSalm', 1865, 'inicio_e4', 1808, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb3,Nf6,d3,Be7,Nc3,Be6,Nb5,a6,Nc3,b5,Be3,c4,dxc4,dxc4,Qe2,cxb3,axb3,O-O,Nxb5,Nc6,Nbd4,Nxd4,Nxd4,Bc5', 'Nxe6,Bb4+,c3', 'https://lichess.org/training/h2wnR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H2wud', 'Rapid', 'nakacevinal', 1915, 'eyukinalexandr', 1750, 'e4,e5,Nf3,Nc6,Nc3,d6,Bb5,Bd7,d3,a6,Ba4,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd5,Be7,O-O,O-O,Qd2,Nd4,Bxd7,Qxd7,Nxd4,exd4,Rfe1,c5,Nb6,Qc6,Nxa8,Rxa8,f4,Re8,Re2,Bd8,Rae1,Qb5,c3,Ba5,Qc2,dxc3,bxc3,Bb6,Rb1,c4+,Kf1', 'cxd3,Rxb5,dxc2,Rxc2,axb5', 'https://lichess.org/training/H2wud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H2xja', 'Blitz', 'Volkranyarik', 1981, 'benmakhlouf', 1974, 'c4,e6,d4,Nf6,Nf3,Be7,Nc3,h6,e4,O-O,Be2,c5,d5,d6,Be3,Nbd7,O-O,b6,h3,a6,Qc2,Bb7,a4,Rc8,Qb3,Kh8,Rfd1,e5,a5,Qc7,axb6,Qxb6,Qc2,Qc7,Qa4,Ra8,b4,cxb4,Qxb4,Nc5,Rdb1,Rab8,Qa3,Rfc8,Nh4,Nfxe4,Nf5,Bf6,Nxe4,Nxe4,Qd3,Nc5,Bxc5,Qxc5,Qf3,e4,Qf4,Bxa1,Rxa1,Kh7,Qg4,g6,Ne7,Rf8,Qxe4,Rbe8,Bd3,Qc7,Re1,f5,Qe6,Bc8', 'Qxg6+,Kh8,Qxh6#', 'https://lichess.org/training/H2xja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H2yLH', 'Classical', 'Paul1209', 1645, 'Lordananas', 1647, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,d4,Bg4,dxe5,Bxf3,Qxf3,Bxe5,Rd1,Qf6,Qxf6,Nxf6,f3,Rd8,Rxd8+,Kxd8,Nd2,Bd4+,Kf1,Re8,c3,Ba7,Nb3,Nd7,Bf4,f6,Rd1,Kc8,Ke2,g5,Be3,Bxe3,Kxe3,b6,Kf2,c5,Nd2,Ne5,b3,Nd3+,Kg3,h5,Nc4', 'h4+,Kg4,Nf2+,Kf5,Nxd1', 'https://lichess.org/training/H2yLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h2z1H', 'Classical', 'south_pawn', 1758, 'milotoor', 1632, 'd4,Nf6,Nc3,d5,e4,dxe4,f3,exf3,Nxf3,e6,Bg5,Be7,Bd3,Nc6,Bb5,Bd7,O-O,a6,Bd3,O-O,a3,Nd5,Bxe7,Qxe7,Qd2,Rad8,Ne4,e5,Nc5,Nxd4,Nxb7,Rb8,Na5,Nxf3+,gxf3,Bb5,c4,Nf4,cxb5,axb5,Nc6', 'Qc5+,Kh1,Qxc6', 'https://lichess.org/training/h2z1H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h32Dw', 'Rapid', 'shandar', 1722, 'babafingo_35', 1708, 'e4,e5,Nc3,Bc5,Nf3,Nc6,Bb5,Nf6,O-O,d6,h3,O-O,Re1,a6,Ba4,b5,Bb3,h6,d3,Na5,Nd5,Nxd5,Bxd5,c6,Bb3,Nxb3,axb3,Qf6,Be3,Bxe3,Rxe3,Qg6,Qf1,Bxh3', 'Nh4,Qf6,Rxh3', 'https://lichess.org/training/h32Dw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h32xe', 'Rapid', 'AXDR02', 1877, 'germanjara', 1884, 'e4,Nc6,d4,e6,Be3,d5,e5,Be7,Nf3,Nh6,Bxh6,gxh6,g3,Bg5,Bg2,Bd7,O-O,h5,h4,Be7,Nbd2,Rg8,Kh2,f5,exf6,Bxf6,Re1,Qe7,c4,O-O-O,cxd5,Nxd4,Nxd4,Bxd4,Nb3,Bxf2,Qxh5,Bxg3+,Kh1,Bxh4,Re4,Bg3,Rf1,e5,Rf7,Qg5,Rxh7,Bf4,Qxg5,Rxg5,d6,cxd6,Rc4+,Kb8,Na5,b6,Nc6+,Bxc6,Bxc6,d5', 'Rb7+,Kc8,Bxd5#', 'https://lichess.org/training/h32xe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h36nu', 'Rapid', 'Rafube_Alphia', 1664, 'Mithrandir__1', 1683, 'd4,g6,c4,Bg7,e3,Nf6,Bd3,O-O,Nf3,d6,O-O,Nbd7,a3,e5,dxe5,Nxe5,Nxe5,dxe5,b4,e4,Bc2,Qxd1,Rxd1,Bg4,Rd2,Rad8,Nc3,Rxd2,Bxd2,Rd8,Bc1,Nh5,Bb2,Rd2,Rc1,Be6,Rd1', 'Rxc2', 'https://lichess.org/training/h36nu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h373s', 'Rapid', 'sffallen', 2011, 'DemOleg', 2048, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,d6,Nc3,g6,Qg3,Bg7,Bd2,Nf6,O-O-O,Be6,Bb5,O-O,f4,a6,Bd3,b5,f5,b4,fxe6,bxc3,Bxc3,fxe6,h4,Nh5,Qe1,Ne5,Nf3,Nxd3+,Rxd3,Rb8,Ng5,Bxc3,Qxc3,Qf6,Rf3,Qxc3,Rxc3,Nf4,Rxc7,h6,Nf3,Nxg2,Rg1,Nf4,Kb1,Rb6,Nd4,Rf7,Rc8+,Kg7,Re8,Kf6,Rf1,Ke5,Nf3+,Kxe4,Nd2+,Kd5,Rc8,e5,Nc4,Rc6,Ne3+,Kc5,b4+,Kb6,Rxc6+,Kxc6,a4,Rb7,c3,a5,b5+,Kc5,Kb2,g5,hxg5,hxg5,Rg1,Rg7,Kb3,d5,Ng4,Kd6,Re1,e4,c4,Nd3,Rf1,Nc5+,Ka3,dxc4,Rc1,Kd5,Ne3+,Kd4', 'Nf5+,Kd3,Nxg7', 'https://lichess.org/training/h373s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h37FG', 'Rapid', 'Goitia11', 2073, 'poorstudent', 2159, 'e4,c5,Nc3,g6,g3,Bg7,Bg2,Nc6,f4,e6,Nf3,Nge7,O-O,d5,d3,O-O,Bd2,Nd4,e5,Nec6,Nxd4,Nxd4,Ne2,Nxe2+,Qxe2,Bd7,c3,b5,a3,c4,d4,Qb6,h3,a5,g4,Kh8,Kh2,Rg8,Rf2,Bf8,Raf1,b4,axb4,axb4,f5,gxf5,gxf5,Ra2,Qh5,Rxb2,Qxf7,bxc3,Bg5,Rxf2,Bf6+,Bg7,Rxf2,Qxd4,fxe6,Qxf2', 'Bxg7+,Rxg7,Qxf2', 'https://lichess.org/training/h37FG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H386W', 'Rapid', 'Olegderr', 1606, 'MM007', 1942, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Nc3,Qf6,Qe2,Nge7,Be3,Bxe3,Qxe3,O-O,Nb5,Qxb2,Nxc7,Rb8,Nb5,a6,Nc3,Qxc2,Rc1,Qb2,Rb1,Qa3,Bd3,Nb4,Ra1,Nxd3+,Qxd3,Ng6,O-O,Qe7,Rfe1,Qf6,Nd5,Qd6,h3,Nf4,Nxf4,Qxf4,Nd4,d6,Nf5,Bxf5,exf5,Rfe8,g3,Rxe1+,Rxe1,Qb4,Qe3,Kf8', 'Qe7+,Kg8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/H386W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3CC3', 'Classical', 'Chesspistol', 2225, 'juarezpaco20', 2167, 'c4,f5,Nc3,Nf6,Nf3,g6,g3,Bg7,Bg2,d6,O-O,e5,d3,c6,Bd2,h6,Ne1,O-O,f4,Be6,e4,exf4,Bxf4,g5,Be3,Ng4,Qd2,c5,Nc2,Nc6,Kh1,Nxe3,Nxe3,f4,Ned5,fxg3,hxg3,Be5,Rxf8+,Kxf8,Rf1+,Kg7,Qf2,a6,Ne3,Qd7,Nf5+,Kg6,Nd5,Re8,Bf3,Rf8,g4,Bd4,Qh2,Bxf5,exf5+,Kg7,Be4,Be5,Qh5,Qf7,Qh3,Bf6,Qh2,Ne5,Qh3,b5,b3,bxc4,bxc4,Rb8,Rf2,a5,Kh2,Nd7,Nxf6,Qxf6,Qh5,Ne5,Kg3,a4,Qh1,a3,Qc1,Nxg4,Kxg4,h5+,Kg3,Rb2,Rg2,Qe5+,Kh3,g4+,Kh4,Rxg2,Qg5+,Kf8,Bxg2', 'Qh2+,Bh3,Qxh3#', 'https://lichess.org/training/h3CC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H3Cdw', 'Rapid', 'Karimdel', 1996, 'Skadoodle', 1889, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,f5,exf5,e4,Ng1,Nf6,Ne2,d5,Bb3,Bxf5,d4,exd3,Nf4,Qe7+,Kf1,O-O-O,Na3,d4,c4,Rhf8,f3,g5,Nxd3,Bxd3+,Qxd3,g4,f4,Rde8,Bd2,Bxa3,bxa3,Qxa3,c5,Nh5', 'Be6+,Rxe6,Qxa3', 'https://lichess.org/training/H3Cdw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H3DjA', 'Rapid', 'Argonauta_pf', 1742, 'BlueskullFireWalker', 1801, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,c5,Be3,Nc6,Bb5,cxd4,Bxc6,bxc6,Bxd4,c5,Be3,d4,Nxd4,cxd4,Bxd4,Qg5,Qf3,Rb8,Ne4,Qg6,O-O,Bb7,Rfe1,a6,Ba7,Ra8', 'Nd6+,Bxd6,Qxb7', 'https://lichess.org/training/H3DjA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3DNe', 'Rapid', 'SUHABEGDEDE', 1662, 'rahulrcb23', 1703, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,d6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,f3,Be7,Bd2,d5,exd5,Nxd5,Nxd5,Qxd5,Ne2,O-O,Qxe7,Rfe8,Qg5,Qc4,O-O,Qxe2,Rfe1,Qc4,b3,Qxc2,Rxe8+,Rxe8,Rc1,Qxa2', 'Bc3,f6,Bxf6', 'https://lichess.org/training/h3DNe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3ehX', 'Rapid', 'perspolis_chess', 1850, 'febagi', 1788, 'e3,g6,c3,Bg7,Qb3,d6,Bb5+,c6,Bc4,e6,Nf3,Nf6,Ng5,d5,Be2,O-O,h4,e5,h5,Na6,hxg6,fxg6,Nf3,Nc5,Qb4,Nce4,Nxe5,a5,Qa4,Re8,Nf3,Bf5,Nd4,b5,Qd1,c5,Nxf5,gxf5,Bxb5,Re7,Bd3,c4,Bxe4,Nxe4,d3,cxd3,Qxd3,Rd7,Nd2,Qg5,Nxe4,fxe4,Qf1,Rf8,Bd2,Rdf7,O-O-O,Rxf2,Qg1,Rxg2,Qe1,Rff2,Rg1,Re2,Rxg2,Qxg2,Qg1', 'Rxd2,Qxg2,Rxg2', 'https://lichess.org/training/h3ehX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H3EWD', 'Rapid', 'al_ex1969', 1934, 'lukas24', 1923, 'e4,e5,Nf3,d6,d4,Nc6,d5,Nce7,c4,Ng6,Nc3,a6,Bd3,Be7,Qc2,Bg4,h3,Bxf3,gxf3,Qd7,Ne2,h6,f4,Nf6,fxe5,Nxe5,Bf4,Nf3+,Kd1,g5,Be3,Ne5,Qb3,O-O-O,Kc2,Nh5,f4,gxf4,Nxf4,Nxf4,Bxf4,Rhg8,Raf1,Rg2+,Kb1,Nxd3,Qxd3,Rdg8,Bd2,Bg5,Bc3,Bd8,Qf3,Kb8,Qxf7,Qa4,Rc1,Qxc4,Rhd1,Qxe4+,Ka1,R2g7,Qf2,Bg5', 'Bxg7,Bxc1,Rxc1', 'https://lichess.org/training/H3EWD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H3HMS', 'Rapid', 'Pendekar-apik', 1903, 'Garnes26k', 1987, 'e4,e6,d4,b6,Nf3,Bb7,Bd3,Be7,O-O,Nf6,Re1,O-O,c3,a5,Bg5,Na6,Nbd2,c5,Qe2,cxd4,cxd4,Nb4,a3,Nxd3,Qxd3,Ng4,Bf4,Rc8,e5,f5,h3,Nh6,Bxh6,gxh6,Qe3,Bg5,Qb3,Rf7,Rac1,Rg7,Rxc8,Qxc8,Qxb6,Bxd2,Nxd2,Rxg2+,Kf1,Rh2,Re3,Ba6+', 'Kg1,Rxh3,Rxh3', 'https://lichess.org/training/H3HMS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3II8', 'Rapid', 'karkwa', 1684, 'val1970', 1757, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Nf3,Bg4,Be2,e6,O-O,Bxf3,Bxf3,cxd4,cxd4,Qb6,Be3,Qxb2,Nd2,Qa3,Rb1,Rb8,Qc2,Qa5,Bh5,Nge7,f4,Nf5,Qd3,Nxe3,Qxe3,Nxd4,Kh1,Bc5,Qg3,O-O,Nb3,Nxb3,Rxb3,Qxa2,h4,g6,f5,exf5,Rxf5,Kh8,Rg5,gxh5,Qf3,Qa1+,Kh2,Qg1+,Kh3,Rg8', 'Qf6+,Rg7,Qxg7#', 'https://lichess.org/training/h3II8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H3Iq3', 'Bullet', 'justplayfaster', 1629, 'Kasperlkof', 1670, 'e4,c5,Nc3,d6,d3,Nc6,f4,g6,Nf3,Bg7,Bd2,Bg4,h3,Bxf3,Qxf3,Nd4,Qf2,Qb6,O-O-O,a5,Nd5', 'Ne2+,Kb1,Qxb2#', 'https://lichess.org/training/H3Iq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3KKu', 'Rapid', 'knooop1', 1872, 'plouf14', 1834, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Bc5,O-O,O-O,Bxc6,dxc6,Nxe5,Re8,Nf3,Bg4,h3,Bh5,Nc3,Nd7,Re1,Ne5,Be3,Nxf3+,gxf3,Bxe3,fxe3,Qg5+,Kf2,Qh4+,Kg2,Re6,Rg1,Rf6,Rf1,Re8,Ne2,Rg6+,Kh2,Re5,Nf4,Qg3+,Kh1,Reg5,Rg1,Qxf3+,Qxf3,Bxf3+,Kh2,Rxg1,Rxg1,Rxg1,Kxg1,g5,Kf2,Bd1,Nh5,Bxc2,Ke2,Bb1,a3,Ba2,Nf6+,Kg7,Ne8+,Kg6,Nxc7,Kh5,Kf2,Bb1,d4,Bxe4,Ne8,Kg6,Nd6,Bf5,Kg3,h5,Nxb7,h4+,Kf3,Kf6,Kg2,Be4+,Kh2,Ke7,Nc5,Bd5,Nxa6,Kd6,Nb4,Bc4,Kg2,f5,Kf3,Bf1,e4,Bxh3,e5+,Ke6,Nxc6,g4+,Kf2,g3+,Kg1,f4,Nb4,f3,Nd3,Kd5,Nf4+,Kxd4,Nxh3,Kxe5,b4,Kd5,a4,Kc4,a5,Kb5,Ng5,f2+,Kg2,Ka6,Nf3', 'h3+,Kxh3,f1=Q+', 'https://lichess.org/training/h3KKu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3Lxd', 'Rapid', 'gunsblazing', 2001, 'CarlitosWay93', 2110, 'd4,Nf6,c4,e6,Nf3,Be7,h3,b6,Nc3,Bb7,Bg5,O-O,e4,Nxe4,Bxe7,Qxe7,Nb5,Qb4+,Nd2,a6,Nxc7,Qxb2,Rb1,Qxd4,Nxe4,Qxe4+,Be2,Qxg2,Rf1,Ra7,Rxb6,Rc8,Qd6,Qg5,c5,Qc1+,Bd1,Rxc7,Qxc7', 'Qc3+,Ke2,Bf3#', 'https://lichess.org/training/h3Lxd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3mHX', 'Blitz', 'HIMUDEEPU', 1567, 'va-wizard', 1590, 'e4,Nf6,e5,Nd5,c4,Nb6,Nf3,d6,Nc3,Nc6,Nd5,Nxd5,cxd5,Nxe5,d4,Nxf3+,Qxf3,g6,Bc4,Bg7,Be3,O-O,O-O,a6,Qg3,b5,Bd3,Bb7,f4,Bxd5,f5,e5,fxg6,hxg6,dxe5,Bxe5,Qh3,Re8,Qh6,Qd7,Qg5,Bxb2,Rad1,Re5,Qg3,Rh5,Be2,Be5,Bf4,Bxf4,Rxf4,Qe6,Bxh5,Re8,Bg4,Qe5,Bf3,Bxa2,Re4,Qc5+,Kf1,Bc4+,Ke1,Qb4+,Kf2,Qb2+,Ke1', 'Rxe4+,Bxe4,Qe2#', 'https://lichess.org/training/h3mHX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3ORH', 'Blitz', 'kacper05', 2480, 'WIM malybalaganiarz', 2381, 'd4,d5,c4,c6,Nf3,Nf6,e3,e6,Bd3,Nbd7,Nbd2,Bd6,O-O,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,e5,Qc2,g6,Bh6,Re8,dxe5,Nxe5,Rad1,Nxf3+,Bxf3,Qh4,Rxd6,Qxh6,Rfd1,Bf5', 'Qxf5,gxf5,Rxh6', 'https://lichess.org/training/h3ORH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H3plP', 'Classical', 'Miltinho', 1845, 'iminclassbtw', 1845, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,g6,Bg5,Bg7,Nf3,d6,O-O,O-O,Qd2,b5,Bh6,Bg4,Bxg7,Kxg7,a3,Rc8,h3,Be6,Nd5,Nxe4,Qd3,Nc5,Qd2,Bxd5,Qxd5,e6,Qd2,Ne4,Qf4,f5,h4,e5,Qc1,Qb6,Ng5,Nf6,Ne6+,Kf7,Nxf8,Kxf8,c4,bxc4,Qxc4,Ne7,Qe6,Nfd5,Rac1,Rd8,Rfd1,Qxb2,Bxa6,Qxa3,Bc4,Rc8,Rxd5', 'Qxc1+,Bf1,Nxd5', 'https://lichess.org/training/H3plP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3Psg', 'Rapid', 'ahmedmohamedragab', 1703, 'kaushal06', 1700, 'd4,e6,e3,d5,Nf3,c5,Nc3,Nc6,dxc5,Bxc5,Bb5,Qb6,Bxc6+,bxc6,Na4,Qb4+,c3,Qb5,Nxc5,Qxc5,Ne5,Ba6,Qf3,Nf6,g4,O-O,h4,Ne4,Nd7,Qc4,Nxf8,Rxf8,Bd2,Nxd2,Kxd2,Qd3+,Kc1,Rb8,Rd1,Qb5,Rb1,Qa4,Qg3,Rb6,Qc7,h6,Qxa7,Rb5,Qe7,Qxa2,Qe8+,Kh7,Qxf7,Rc5,Kd2,Qc4,Qxe6', 'Qd3+,Kc1,Rxc3+,bxc3,Qxc3#', 'https://lichess.org/training/h3Psg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H3PzT', 'Rapid', 'maternuelis', 1799, 'Kozhan', 1601, 'e4,e5,Nf3,Nc6,Nc3,Bb4,Bc4,h6,a3,Bxc3,dxc3,Nf6,Qe2,d6,Bd2,O-O,O-O-O,Bg4,h3,Bh5,g4,Bg6,Rdg1,Nxe4,h4,d5,Bb3,Nxd2,Qxd2,e4,h5,exf3,hxg6,fxg6,Rd1,Kh8,Bxd5,Ne7', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/H3PzT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3rdI', 'Rapid', 'ahmedabdelsabor', 1649, 'jdsd2019', 1803, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c4,Bb4+,Nc3,O-O,Be2,Bxc3+,bxc3,dxc4,Bxc4,Re8+,Be3,Nc6,O-O,Bg4,h3,Bh5,Bg5,h6,Bh4,Qd6,Qd3,Ne4,Bb3,Qg6,Nd2,Nxd2,Qxd2,Bf3,Bg3,Be4,Rfe1,h5,h4,Rad8,Re3,Kh8,Rae1,f5,Kh2,f4,Rxe4,Rxe4,Bc2,fxg3+,fxg3,Rde8,Bxe4,Rxe4,Rf1,Qd6,Qg5,Qh6', 'Rf8+,Kh7,Qf5+,Qg6,Rh8+,Kxh8,Qxg6', 'https://lichess.org/training/h3rdI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3T1g', 'Blitz', 'shyamw', 1669, 'KharonXIlI', 1810, 'e4,g6,d4,Bg7,g3,e6,Bg2,Nc6,Ne2,d5,exd5,exd5,O-O,Nge7,Bg5,O-O,Nf4,h6,Bxe7,Qxe7,Nxd5,Qd6,c3,Ne7,Nxe7+,Qxe7,Re1,Qd6,Nd2,c6,Ne4,Qd8,Nc5,Re8,Qb3,Rxe1+,Rxe1,b6,Bxc6,Rb8,Nd3,Be6,d5,Bd7,Nb4,Rc8,c4,a5,Nd3,Bxc6,dxc6,Rxc6,Ne5,Re6,Qc3,Bxe5,Rxe5,Rxe5,Qxe5,Qd1+,Kg2,Qa4,Qb8+,Kg7,Qxb6,Qxa2,b3,a4,bxa4,Qxc4,a5,h5,a6,h4,Qb7,Qg4,a7', 'h3+,Kf1,Qd1#', 'https://lichess.org/training/h3T1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3u1A', 'Bullet', 'mk64', 1848, 'Blueberry_03', 1854, 'e4,g6,d4,d6,c4,Bg7,Nc3,Nf6,f3,O-O,Be3,a5,Qd2,Nc6,O-O-O,e5,Nge2,Bd7,h4,h5,Bh6,Kh7,Bxg7,Kxg7,g4,hxg4,h5,Nxh5,fxg4,Bxg4,Bh3,Bxh3,Rxh3,Rh8,Rdh1,Qd7,Qg5,exd4,Nd5,d3,Nef4,Nxf4,Rxh8,Rxh8,Rxh8,Kxh8', 'Qh6+,Kg8,Nf6#', 'https://lichess.org/training/h3u1A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h3uno', 'Rapid', 'gaviyy', 1942, 'Tacticaccount', 2129, 'e4,c6,Nf3,d5,Nc3,Bg4,h3,Bxf3,Qxf3,Nf6,d4,e6,Bd3,Be7,O-O,dxe4,Nxe4,Qxd4,Be3,Qd8,Rfd1,Nxe4,Bxe4,Qc8,Bd4,O-O,Bxh7+,Kxh7,Qh5+,Kg8,Bxg7,Kxg7,Rd3,Rg8', 'Rg3+,Kf8,Qh6+,Ke8,Rxg8+', 'https://lichess.org/training/h3uno');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H3xFA', 'Rapid', 'Repsej', 1751, 'mifi', 1711, 'e4,e5,Nf3,Nc6,c3,Bc5,d4,exd4,cxd4,Bb6,Nc3,d6,Bb5,Bd7,d5,Ne5,Nxe5,dxe5,Bxd7+,Qxd7,O-O,Nf6,Qf3,O-O,Qg3,Nh5,Qxe5,g6,h3,f6,Qh2,Rae8,Bf4,Bd4,g4,Ng7,Rfe1,f5,Bxc7,fxg4,hxg4,Rxf2,Qh4,Qxc7,Nb5,Qc5,Nxd4,Qxd4,Qxf2,Rxe4,Rxe4,Qxe4,Qxa7,Qxg4+,Kf1,Qh3+,Ke2,Qg2+,Qf2,Qg4+,Kd2,Nf5,Rc1,Qg5+,Kc2,Qe7,Kb1,Qe4+,Qc2,Qxd5,Qc4,Qxc4,Rxc4,h5,Rc8+,Kg7,Rc7+,Kf6,a4,h4,Rxb7,h3,a5,g5,a6', 'h2,Rh7,Nh4', 'https://lichess.org/training/H3xFA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H3xIr', 'Blitz', 'NM boldpilot22622', 2484, 'edrocks', 2336, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a3,e6,g4,Be7,g5,Nfd7,h4,Nc6,Be3,Qc7,Qd2,b5,O-O-O,Bb7,h5,Nc5,Bh3,Nxd4,Bxd4,Bxe4,Nxe4', 'Nb3+,Kb1,Nxd2+', 'https://lichess.org/training/H3xIr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H462o', 'Rapid', 'Amolpatil', 1833, 'Volumstein', 1820, 'e4,c5,Bc4,d6,Nf3,e6,d4,Nf6,Bg5,Be7,e5,Nd5,Qd2,Bxg5,Nxg5,O-O,Bd3,g6,h4,Nb4,Bxg6,fxg6,h5,Nxc2+,Qxc2,Qxg5,hxg6,Qxg6,Qxg6+,hxg6,exd6,Rd8,dxc5,b6,Nc3,bxc5,Ne4,Kg7,O-O-O,Bb7,Nxc5,Bd5', 'Rxd5,exd5,Ne6+,Kf6,Nxd8', 'https://lichess.org/training/H462o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H47KN', 'Rapid', 'malilug28', 1864, 'SlickRick07', 2138, 'd4,Nf6,e3,g6,Nf3,Bg7,Bc4,d5,Bb3,Nc6,c4,e6,cxd5,exd5,O-O,O-O,Ne5,Be6,f4,Nxe5,fxe5,Ne4,Nc3,Nxc3,bxc3,a5,Qf3,a4,Bc2,a3,Rb1,b6,e4,dxe4,Bxe4,Ra4,Bc6,Ra5,Rf2,Bf5,Rb3,Qe7,c4,h5,Bxa3,Rxa3,Rxa3,Bg4,Qe3,Bh6,Qc3,h4,Bf3,Bf5,Rb3,h3,g3,Rd8,d5,Qc5,Kf1,Re8,Re2,Bg7,Rb5,Qf8,Qe3,Rxe5,Qf4,Rxe2,Bxe2,Qa3,Qd2,Bc3,Rb3', 'Qxb3,axb3,Bxd2', 'https://lichess.org/training/H47KN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4AJG', 'Rapid', 'inbtwn', 1822, 'jeekiii', 1827, 'd4,d5,f4,Nc6,e3,Nf6,Bd3,Bg4,Nf3,e6,Nbd2,Bd6,Qe2,O-O,h3,Bf5,g4,Bxd3,cxd3,Nb4,Nb3,c5,a3,c4,dxc4,dxc4,Qxc4,Rc8,Nc5,Bxc5,dxc5,Qa5,Qxb4,Qc7,O-O,Qc6,Bd2,Ne4,Bc3,Ng3,Ne5,Qh1+,Kf2,Qh2+,Kf3,Nxf1,Rxf1,Qxh3+,Ke2,f6,Nf3,Qg2+,Ke1,Qg3+,Rf2,e5,Qc4+,Kh8,fxe5,fxe5,Bxe5,b5,Bxg3,bxc4,Bd6,Rf6,e4,Re8,e5,Rf4,Kd2,Rxg4,Kc3,h5,Nd4,h4,e6,Rg3+,Kxc4,h3,Rf8+,Rxf8,Bxf8', 'h2,e7,Re3', 'https://lichess.org/training/H4AJG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4ApZ', 'Bullet', 'ljubomauzer', 1666, 'Nelchoy', 1673, 'd4,e6,c4,d5,Nc3,Bb4,Bf4,dxc4,e3,b5,a3,Bxc3+,bxc3,Bd7,Be2,Nc6,Bf3,Rb8,Ne2,Nf6,Bg5,O-O,O-O,h6,Bh4,g5,Bg3,Ne7,h4,Bc6,Bxc6,Nxc6,hxg5,hxg5,f4,g4,Nc1,Ne4,Qxg4+,Kh7,Na2,Qf6,f5,Nd2,Rf2,Rg8,Qh3+,Qh6,Qxh6+,Kxh6,fxe6,Rxg3,exf7,Rf8,Rf6+,Kg5,Rxc6,Rxf7,Nb4,Nf3+,Kf2,Nxd4+,Kxg3', 'Ne2+,Kh3,Rh7+,Rh6,Rxh6#', 'https://lichess.org/training/H4ApZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4ayJ', 'Rapid', 'slaker77', 1935, 'info82', 1865, 'd4,d5,c4,dxc4,Nc3,c6,e3,b5,Nxb5,cxb5,Qf3,Nc6,Qxc6+,Bd7,Qa6,e6,Bd2,Qc7,b3,c3,Bc1,Rb8,Ba3,Rb6,Qa5,b4,Bxb4', 'Bxb4,Qxb4,Rxb4', 'https://lichess.org/training/H4ayJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4Ccs', 'Rapid', 'tonybenoni', 2243, 'altamisal', 2182, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,bxc6,O-O,Be7,f3,Nc5,f4,O-O,Nc3,f6,e6,Nxe6,Nf5,Bc5+,Kh1,Rb8,Qg4,Kh8,Bd2,Rg8,Qh4,Rxb2,Na4,Rxc2,Nxc5,Nxc5,Nd4,Rxd2,f5,Ne4,Nb3,Rb2,Rf3,Qe7', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/H4Ccs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h4EwE', 'Rapid', 'mohamedaskar', 1915, 'Vitorgan1', 1950, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bb6,d4,exd4,cxd4,h6,Re1,Nge7,e5,O-O,b4,d5,b5,Nb8,Bd3,Bg4,h3,Bh5,g4,Bg6,Bxg6,Nxg6,g5,hxg5,Bxg5,Qd7,Kh2,Qxb5,Nc3,Qd7,Rg1,c6,h4,Qf5,h5,Nf4,Bxf4,Qxf4+,Rg3,Kh8,Ne2,Qh6,Qd3,Bd8,Rag1,Rg8,Qf5,Qe6,Qb1,b6,Nf4,Qe8,Ng6+,fxg6,hxg6,Rf8,Rh3+,Kg8,Qf1,Rf4,Rh8+,Kxh8,Qh3+,Kg8', 'Qh7+,Kf8,Qh8+,Ke7,Qxg7+,Rf7,gxf7', 'https://lichess.org/training/h4EwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4GTO', 'Rapid', 'Saulbaigo', 1651, 'mmoustafa16', 1785, 'c4,e5,Nc3,Nf6,e3,Nc6,a3,d5,h3,d4,exd4,Nxd4,d3,Bc5,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,Nf3,O-O,b4,c6,Nc3,Nxf3+,Qxf3,Bd4,Rc1,Re8,Be2,Qg5,O-O,Bxc3,Rxc3,e4,dxe4,Rxe4,Bd3,Rf4,Qe2,Bxh3,g3,Bxf1,Kxf1,Rd4,Bc2,Qc1+,Kg2,Rad8', 'Bh7+,Kxh7,Rxc1', 'https://lichess.org/training/H4GTO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4HIn', 'Rapid', 'Dakkon2007', 1825, 'calvinman', 1703, 'd4,Nf6,d5,d6,e3,e6,dxe6,Bxe6,Nc3,a6,Bd3,Be7,Nf3,O-O,O-O,Nbd7,b3,Nc5,Ne2,Nxd3,Qxd3,c5,Bb2,Bd5,Ng5,h6', 'Bxf6,hxg5,Bxe7,Qxe7,Qxd5', 'https://lichess.org/training/H4HIn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4iRN', 'Blitz', 'AdikBontot_CCJM', 1993, 'abc575', 1988, 'c4,e6,e3,d5,a3,c6,b4,Nd7,Bb2,Ngf6,Qc2,Be7,Nf3,O-O,Nc3,b6,Ne2,Bb7,Ng3,c5,Ng5,h6,h4,dxc4,Nh5,Rc8,Bxf6,Nxf6', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/H4iRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h4KDN', 'Rapid', 'carvin160', 1889, 'shba', 1812, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,e6,c4,c6,Nbd2,Nbd7,Ne5,Bb4,a3,Bxd2+,Qxd2,dxc4,Bxc4,Nxe5,Bxe5,b5,Bd3,Be4,Bxe4,Nxe4,Qc2,Qd5,Bxg7,Rg8,Be5,Rxg2,Rc1,Rxf2,Qd3,Rxb2,Rg1,Ke7,Rc5,Qa2,Rc1,Rb1,Rxb1,Qf2+,Kd1,Qxg1+,Kc2,Qg2+,Kb3,Qd2,Qxe4,a5,Qh4+,Kd7,Qe1', 'a4#', 'https://lichess.org/training/h4KDN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4l3I', 'Blitz', 'JvJOAQUIM2', 1521, 'hecvkz', 1887, 'e4,c5,Nc3,g6,Bc4,Bg7,d3,Nc6,Bb5,a6,Bxc6,dxc6,f4,e5,fxe5,Bxe5,Nf3,Bg7,O-O,Ne7,Ng5,O-O,Qf3,f6,Nh3,Bxh3,Qxh3,Qd4+,Be3,Qe5,Bh6,f5,exf5,Nxf5,Bxg7,Kxg7,Rae1,Qd4+,Kh1,Rae8,Rxe8', 'Ng3+,hxg3,Rxf1+,Kh2,Qg1#', 'https://lichess.org/training/H4l3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h4LBd', 'Blitz', 'ARipacandida', 1832, 'Sebaskstillo', 1820, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,h6,f4,Bc5,Nf3,exf4,Bxf4,O-O,Qd2,d6,O-O-O,Nd4,Nh4,Nxe4,Nxe4,Qxh4,g3,Qe7,Bxh6,gxh6,Qxh6,Nb3+,Bxb3,Bd4,Qg6+,Bg7,Rdf1,Be6,Bxe6,Qxe6,Qg5,Qh6,Nf6+,Kh8,Qxh6+,Bxh6+,Kb1,Kg7,Ng4,Rae8,h4,Re2,Nf6,Bd2,Nh5+,Kh6,Nf4,Bxf4,gxf4,Rfe8,Rhg1,f5,h5,Kxh5', 'Rg5+,Kh6,Rh1+,Rh2,Rxh2#', 'https://lichess.org/training/h4LBd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4mKv', 'Rapid', 'Piotrek1991', 2136, 'elmoussaoui', 2147, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bg4,Be2,Bd6,h3,Bh5,O-O,O-O,Be3,Nd7,Qd2,f5,Bf4,Qc7,Bxd6,Qxd6,Rad1,Nf6,Ng5,Bg6,Rfe1,Ne4,Nxe4,fxe4,f3,f5,fxe4,fxe4,Rf1,Rae8,Qe3,Rxf1+,Rxf1,Rf8,Bc4+,Kh8,Rxf8+,Qxf8,c3,h6,Bb3,Qd6,Bc2,Qd5,a3,Qf5,Qf2', 'Qxf2+,Kxf2,e3+,Kxe3,Bxc2', 'https://lichess.org/training/H4mKv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h4o0b', 'Rapid', 'ahmadaazamy65', 2034, 'regormossan', 2039, 'd4,e6,Nf3,d5,Bf4,c5,e3,Nc6,Bb5,Bd7,O-O,Nf6,c4,Be7,h3,O-O,Nc3,a6,Bxc6,bxc6,cxd5,exd5,Ne5,Qc8,dxc5,Bxc5,Na4,Ba7,Rc1,Qe8,Nd3,Rc8,Bd6,Ne4,Bxf8,Kxf8,Ndc5,Bf5,Nxa6,Qe6,N6c5,Nxc5,Nxc5,Qg6,Qf3,h5,Qg3,Qf6,b3,Bb8,Qf3,Qd6,Qf4,Qg6,Qf3,Bd6,Rfe1,Ra8,a4,Rb8,Rc3,Kg8,Rec1,Bxc5,Rxc5,Be4,Qg3,Qxg3,fxg3,Rxb3,Rxc6,Rxe3,Ra1,Rxg3,a5,Rxg2+,Kf1,Rh2,Kg1', 'Rh1+,Kf2,Rxa1', 'https://lichess.org/training/h4o0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4oLt', 'Classical', 'ColdIron', 1777, 'Mr_Seif_allah', 1774, 'e4,c5,Nc3,Nc6,g3,e6,Bg2,d5,exd5,exd5,Nge2,Be6,Nf4,Nf6,O-O,Be7,Re1,Qd7,d3,d4,Ne4,Nxe4,Bxe4,O-O,Nxe6,fxe6,Qh5,h6,Qg6,Bf6,Bxh6,Ne5,Qh7+,Kf7,Bd2', 'Rh8,Qxh8,Rxh8', 'https://lichess.org/training/H4oLt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4OtB', 'Classical', 'CecilPurdy', 1943, 'desiignerr', 1984, 'e4,c5,b4,cxb4,d4,e6,Nf3,Nf6,e5,Nd5,Bc4,Nb6,Bb3,Be7,Be3,a5,a4,O-O,Nbd2,Qc7,h4,Nc6,Ne4,d6,Nfg5,dxe5,Nxh7,Rd8,Qh5,exd4,Neg5,g6,Qh6,dxe3,Nf8,exf2+,Kf1,Qe5', 'Qh7+,Kxf8,Qxf7#', 'https://lichess.org/training/H4OtB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4q8m', 'Blitz', 'ArturoGamboa', 1856, 'jhmiii', 2232, 'e4,c5,Nf3,e6,b3,a6,Bb2,Nc6,d4,cxd4,Nxd4,Qc7,Bd3,Nf6,Nd2,Bb4,c3,Nxd4,cxd4,Qa5,a3,Bxd2+,Qxd2,Qxd2+,Kxd2,d6,Rac1,Bd7,Rc7,Bc6,d5,exd5,Bxf6,gxf6,exd5,Bxd5,Re1+,Kf8,Ree7,Kg7,Bc4,Bxc4,bxc4,b5,Rxf7+,Kg6,g4,bxc4,f4,h5', 'Rg7+,Kh6,g5+,fxg5,fxg5#', 'https://lichess.org/training/H4q8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4q96', 'Rapid', 'wheeler1', 1897, 'couscousclam', 1888, 'e4,d5,exd5,Nf6,Nf3,Bg4,Be2,Qxd5,d3,Nc6,Be3,e6,Nc3,Qh5,h3,O-O-O,Qd2,Bb4,Qc1,Nd5,Bd2,Nxc3,bxc3,Ba5,c4,Bb6,Qb2,f6,O-O-O,Bxf3,Bxf3,Qe8,Be3,Nd4,a4,Qxa4,Kd2,Nxf3+,gxf3,Qxc4,Bxb6,axb6,Ra1,Qf4+,Ke2,Qe5+,Qxe5,fxe5,Ke3,Kd7,Ra7,Kc6,Rg1,g6,Ra4,b5,Re4,Rd5,Rg5,Kd6,c3,c5,c4,bxc4,dxc4,Rd1,Ke2,Rc1,Rgxe5,Re8,Kd2,Rxc4,Rxc4,Kxe5,Rxc5+,Kf4,Ke2,Ra8,Rb5,Ra2+,Ke1,Kxf3,Rxb7,Rxf2', 'Rf7+,Kg3,Rxf2', 'https://lichess.org/training/H4q96');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h4qcA', 'Rapid', 'U_V_Pavel', 1870, 'Marko1777', 1988, 'e4,d6,d4,g6,Nf3,Bg7,Bc4,Nf6,O-O,O-O,Nc3,c6,Bb3,a5,a4,Na6,Ne2,Nxe4,Re1,d5,Ng5,Nxg5,Bxg5,Qc7,Ng3,e6,Qd2,c5,Bh6,c4,Bxg7,Kxg7,Nh5+,Kh8', 'Qh6,Rg8,Nf6', 'https://lichess.org/training/h4qcA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h4QQo', 'Blitz', 'GM crackcubano', 2570, 'FM david_gomez', 2558, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Ndb5,d6,Bf4,e5,Bg5,a6,Na3,b5,Nd5,Qa5+,Bd2,Qd8,c4,Nxe4,cxb5,Be6,Ne3,Nd4,bxa6,Be7,Nac2,O-O,Nxd4,exd4,Nc2,Bh4,g3,Bd5,Rg1,Re8,Be2,d3,Be3,Qa5+,b4,dxc2,bxa5,cxd1=Q+,Rxd1,Nc3,gxh4,Nxd1,Kxd1,Bxa2,Kd2,Rec8,a7,Be6,Rb1,d5,Rb7,d4,Bxd4,Rd8,Ke3,Re8,Kd2,Bd5,Rd7,Rad8,Rxd8,Rxd8,Ke3,Re8+,Kd2,f6,Bb5,Rd8,Ke3,Kf7,Bb6,Rc8,Kd4,Bb7,a6,Ba8,Bd7,Rc1,Bf5,g6,Be4,Rd1+,Ke3', 'Re1+,Kd2,Rxe4', 'https://lichess.org/training/h4QQo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4U3u', 'Rapid', 'nakonako', 1772, 'Mage-2', 1939, 'Nf3,d5,g3,Nf6,Bg2,Nc6,c4,dxc4,Qa4,e5,Nxe5,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Qxc6+,Nd7,Qxc4,Bd6,O-O,O-O,d4,Nb6,Qc2,Qf6,e3,Rac8,Nc3,Qg6,Qxg6,fxg6,Ne4,Be7,b3,Nd5,Bd2,Rf3,Rac1,c6,Kg2,Rff8,Nc5,Bxc5,Rxc5,Nf6,Rfc1,Ne4,R5c2', 'Rxf2+,Kg1,Rxd2,Rxd2,Nxd2', 'https://lichess.org/training/H4U3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H4Xvc', 'Rapid', 'xyz1234567', 1647, 'sundara7', 1636, 'd4,d5,a3,Nc6,Nc3,Nf6,e3,a6,Nf3,Bf5,h3,h6,Bd3,e6,Bxf5,exf5,Qd3,Qd7,Na4,Na7,Ne5,Qxa4,O-O,Bd6,Qxf5,Bxe5,Qxe5+,Kd7,c3,Qc6,e4,Rae8,Qf5+,Kd8,e5,Nh7,Qxf7,Rhf8,Qxg7,Ng5,Qxh6', 'Qxh6,Bxg5+,Qxg5', 'https://lichess.org/training/H4Xvc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h524j', 'Blitz', 'rjmaf', 2024, 'Wesjasper', 2107, 'e4,c5,Nc3,Nc6,f4,g6,d3,Bg7,Nf3,d6,Be2,e6,O-O,Nge7,Be3,O-O,h3,Rb8,a4,a6,d4,cxd4,Nxd4,Nxd4,Bxd4,e5,fxe5,dxe5,Be3,Be6,a5,Nc6,Bb6,Qh4,Qe1,Qg5,Rd1,f5,Rd6,Nd4,Bxd4,exd4,Rxe6,dxc3,Bc4,Kh8,bxc3,Rbc8,Bb3,Bxc3,Qe2,Bxa5,exf5,gxf5', 'Qe5+,Qg7,Qxa5', 'https://lichess.org/training/h524j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h55TV', 'Rapid', 'Fooldan', 1896, 'LauSouto6', 1970, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,e6,Nc3,d6,Bb5+,Nc6,Nf3,Nxc3,bxc3,d5,O-O,Be7,Qa4,Bd7,Ba3,O-O,Bxe7,Qxe7,Rac1,a6,Bd3,Rac8,Qd1,Na5,Qc2,Nc4,Bxh7+,Kh8,Bd3,Rc7,Rfe1,Rfc8,Bxc4,Rxc4,Re3,Ba4,Qd2,Qa3,Ng5,b5,Rh3+,Kg8,Qf4,f5,Rh8+,Kxh8,Qh4+,Kg8,Qh7+,Kf8,Qh8+,Ke7,Qxg7+,Ke8', 'Qf7+,Kd8,Nxe6#', 'https://lichess.org/training/h55TV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H57To', 'Rapid', 'czechchess', 2181, 'davood1369', 2008, 'c4,e5,g3,Bc5,Bg2,Nf6,Nc3,O-O,d3,h6,e3,Nc6,Nge2,d6,h3,Bf5,O-O,Nb4,e4,Be6,Kh2,Nc6,f4,Nd4,f5,Bd7,g4,Nh7,Nxd4,Bxd4,Ne2,Qh4,Nxd4,exd4,Bf4,Rfe8,Qd2,Nf6,Kg1,c5,Bg3,Qxg3,Rf4,Qh4,Raf1,Re5,R1f3,Rae8,Kh2,Nh7,g5,Qxg5,Rg3,Qf6,Rfg4,Kh8,Rxg7,Ng5,R7xg5,hxg5,Rxg5,Bxf5,Qf4,Rg8', 'Qh4+,Bh7,Rxg8+,Kxg8,Qxf6', 'https://lichess.org/training/H57To');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h5BcG', 'Rapid', 'compaluca', 1722, 'ky94', 1727, 'e4,d5,e5,e6,d4,Ne7,Nf3,Ng6,Bd3,c5,c3,c4,Bc2,Be7,Be3,b5,a3,a5,O-O,O-O,Qc1,f5,exf6,Bxf6,Bxg6,hxg6,Bg5,Nd7,Qe3,Qe7,Nbd2,Bxg5,Nxg5,Nf6,h3,Nh7,Ndf3,Rf5,h4,Nxg5,Nxg5,Bd7,g4,Rf6,f4,Raf8,Rf2,Bc8,Raf1,Kh8,Qh3,Kg8,h5,gxh5,Rh2,Rh6,Qxh5,Rxh5,Rxh5,Rf6,Kg2,Rh6,Rfh1,Rxh5,Rxh5,Qf6,Kg3,g6,Rh7,e5,dxe5,Qd8,Ra7,b4,axb4,axb4,Ra8,Qd7,e6,Qb7,e7,Qxe7', 'Rxc8+,Kg7,Rc7,Qxc7,Ne6+', 'https://lichess.org/training/h5BcG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H5CQo', 'Rapid', 'DiBarRo', 2161, 'Unknown_body', 2107, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d5,Nxe5,dxe4,Nxc6,bxc6,Bxc6+,Bd7,Bxa8,Qxa8,dxe4,Qxe4+,Qe2,Qxe2+,Kxe2,Bb5+,Kf3,Nd7,Re1+,Kd8,Bf4,h6,h4,Bc6+,Kg3,g5,hxg5,hxg5,Be3,Bd6+,Kg4,Rh4+,Kxg5', 'Be7+,Kf5,Be4#', 'https://lichess.org/training/H5CQo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h5iDq', 'Rapid', 'aticca', 1815, 'andrea107', 1822, 'e4,c5,Nf3,Nc6,Bc4,d6,O-O,g6,h3,Bg7,d4,cxd4,c3,dxc3,Nxc3,Nf6,Bg5,O-O,a3,a6,Re1,b5,Ba2,Bb7,Bxf6,Bxf6,Qd5,Qd7,Qb3,Ne5,Nxe5,Bxe5,Rad1,Rac8,Nd5,Bxd5,Qxd5,e6', 'Qxe5,dxe5,Rxd7', 'https://lichess.org/training/h5iDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h5MAM', 'Rapid', 'jardinho', 1994, 'G147117281-massar', 1974, 'd4,e6,c4,d5,e3,a6,Nf3,Nf6,Nc3,Bb4,Bd2,O-O,Bd3,c5,cxd5,Nxd5,O-O,cxd4,exd4,Nc6,a3,Bxc3,bxc3,f6,Re1,e5,Be4,Bg4,Rb1,f5,h3', 'fxe4,hxg4,exf3', 'https://lichess.org/training/h5MAM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H5nTS', 'Blitz', 'Diomidis2000', 1871, 'Default5852', 1894, 'd4,d5,Bf4,Nf6,e3,e6,c4,Bb4+,Nc3,Ne4,Rc1,O-O,Bd3,Nxc3,bxc3,dxc4,Bxc4,Ba5,Qa4,b6,Nf3,Bd7,Qb3,Bc6,Be2,Nd7,O-O,Nf6,Ne5,Bb7,Bf3,Bxf3,Nxf3,Nh5,Bg3,Nxg3,hxg3,a6,c4,c6,Ne5,Qd6,Qa4,Rac8,Rc2,f6,Nf3,c5,dxc5,Rxc5,Nd4,Rh5,Nb3,Rd8,Nxa5,Rxa5,Qb3,Rh5,Rb2,b5,cxb5,axb5,Qc2,f5,Qe2,e5,Qxh5,Rf8,Rxb5,Qd7,Qe2,Rf6,Rd1,Qc7,Qb2,h6,Rb8+,Kh7,Rb7,Qc4,Rdd7,Rg6,Qb1,Qg4,Rf7,e4,a4,h5,a5,h4,Kf1,hxg3,fxg3,Qxg3,Qc2,Qxe3,Qf2,Qc1+,Qe1,Qc4+,Qe2,Qc1+,Qe1,Qc4+,Qe2,Qc1+,Kf2,Qc5+,Kf1,e3,Qh5+,Kg8,Qxg6', 'Qc1+,Ke2,Qd2+,Kf3,Qf2#', 'https://lichess.org/training/H5nTS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h5nwx', 'Rapid', 'keyvannasiri', 1780, 'thepower09', 1768, 'd4,d5,Nc3,Nc6,e4,dxe4,Bb5,Bd7,Nxe4,a6,Ba4,e6,d5,exd5,Qxd5,Nge7,Qh5,g6,Qf3,Bg7,Bb3,O-O,Ne2,Be6,O-O,Bxb3,axb3,Qd7,Bh6,Qf5,Bf4,Bxb2,Ra2,Be5,Bxe5,Qxf3,gxf3,Nxe5,Kg2,N7c6,c4,Nd7,Rd2,Rfd8', 'Rxd7,Rxd7,Nf6+,Kg7,Nxd7', 'https://lichess.org/training/h5nwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h5P4x', 'Classical', 'KOKETKA', 1889, 'lzm994', 1992, 'e4,c5,Bc4,e6,d4,cxd4,Qxd4,Nc6,Qd1,Bc5,Nf3,Nge7,a3,d5,exd5,Nxd5,Bxd5,exd5,O-O,O-O,b4,Bb6,Bb2,Bf5,c3,Qd6,Nd4,Nxd4,cxd4,Bc7,g3,Rae8,Nc3,a6,b5,Re6,Qf3,Be4,Nxe4,Rxe4,bxa6,bxa6,Bc3,Rfe8,Bb4,Qe6,Rac1,Bb6,Bc5,Ba5,Bb4,Bxb4,axb4,Rxd4,Rfe1,Re4,Rxe4,dxe4,Qe3,g6,Rc5,Rb8,Qd4,Qb3,Qxe4,Qxb4', 'Rc8+,Rxc8,Qxb4', 'https://lichess.org/training/h5P4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H5q9M', 'Blitz', 'CM samidescalona2002', 2532, 'balachess2006', 2454, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,Nf6,Nc3,d6,h3,O-O,Bc4,a6,Qe2,b5,Bb3,Bb7,e5,Ne8,O-O,Nc7,Bg5,b4,exd6,Qxd6,Ne4,Bxe4,Qxe4,Nc6,Rac1,Nxd4,Nxd4,Bxd4,Rxc7,Qxc7,Qxd4,Rfd8,Qxb4,Rab8,Qxe7,Qxe7,Bxe7,Rd4,Bf6,Re4,Bd5,Ree8,f4,Rb6,Bc3,Rb5,Bc4,Rb6,f5,g5,f6,h6,h4,Re4,Bd3,Rxh4,b4,Rd6,Be2,Re4,Bf3,Re8,a4,Rd3,Be1,Re6,b5,axb5,axb5,Rxf6,Bf2,Rb3,Bd4,Rd6,Bc5,Rf6,Re1,Rxb5,Bd4,Re6,Rc1,Rb8,Bg4,Rd6,Be5,Rbd8,Bxd6,Rxd6,Rc7,Kg7,Bh5,Rf6,Kh2,Rf5,Kg3,Rf6,Kh3,Rf4,g3,Rf6,Kg4,Rf1,Rc3', 'f5+,Kh3,Rh1+,Kg2,Rxh5', 'https://lichess.org/training/H5q9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H5rLu', 'Rapid', 'brm54', 2120, 'PokeHumungaDunga', 2154, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,exd6,Be3,Be7,Bd3,O-O,h3,Bf6,Nf3,Be6,Qc2,g6,d5,Bc8,O-O,N8d7,Nc3,Bg7,Bg5,f6,Be3,Nc5,Bxc5,dxc5,Rad1,Nd7,Ne4,b6,d6,Bb7,dxc7,Qxc7,Rfe1,Rfe8,Bf1,Rad8,Nd6,Rxe1,Nxe1,Bc6,Qe2,Ne5,Ne4', 'Rxd1,Qxd1,Bxe4', 'https://lichess.org/training/H5rLu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H5SIy', 'Rapid', 'guesse', 1778, 'milan-sdl', 1776, 'e4,c5,Nf3,Nc6,Nc3,Nf6,Bc4,d6,Ng5,e6,d3,d5,exd5,exd5,Bb5,d4,Nce4,Nxe4,Nxe4', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/H5SIy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h5u2y', 'Rapid', 'Kinez', 1853, 'Lmil', 1804, 'e4,e6,Nf3,d5,exd5,exd5,d4,c6,h3,Bd6,Ne5,Bxe5,dxe5,Nd7,Bf4,Ne7,Bd3,Nc5,O-O,Bf5,Re1,O-O,Bxf5,Nxf5,g4,Ne7,Nd2,Re8,Bg3,Ng6,Nb3,Ne4,Bh2,Nxe5,Bxe5,Rxe5,f3,Ng5,Rxe5,Qf6,Rxg5,Qxg5,Qd2,Qh4,Kg2,h5,Qf4,Re8,Nd4,c5,Nf5', 'Re2+,Kg1,Qf2+,Kh1,Qg2#', 'https://lichess.org/training/h5u2y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h5V9b', 'Rapid', 'zico2', 1705, 'py4nik', 1653, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,e5,Nf3,Bg4,Be2,f5,h3,Bh5,O-O,Nc6,Bd2,O-O-O,Ng5,Bg6,Nce4,Qb6,Nc3,Bb4,a3,Bc5,Ne6,Rd7,Na4,Bxf2+,Rxf2,Qb5,b3,Nd4,Nxd4,exd4,c3,Nf6,cxd4,Rxd4,Be3,Rd5,Rb1,f4,Bxf4,Bxd3,Qc2', 'Bxc2,Bxb5,Bxb1', 'https://lichess.org/training/h5V9b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H5VKk', 'Classical', 'qlitzler', 1724, 'AliChoodaran', 1661, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,Ne5,Nbd7,Bf4,h6,f3,e6,e4,dxe4,fxe4,Nxe4,Bd3,Bb4,Bxe4,Bxc3+,bxc3,Bxe4,Qh5,O-O,O-O,Nf6,Qe2,Bf5,g4,Bh7,h4,Nd7,g5,Nxe5,Qxe5,Bf5,gxh6,gxh6', 'Bxh6,f6,Qg3+', 'https://lichess.org/training/H5VKk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h5wMh', 'Blitz', 'batslife', 1965, 'Lunatik16', 1946, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,dxe5,fxe5,Bf5,Bd3,Bxd3,Qxd3,e6,a3,Nc6,Nf3,Be7,Be3,O-O,O-O,g6,Nc3,a6,Bh6,Re8,Qe3,Nxc4,Qf4,Nxb2,Ng5,Bxg5', 'Qxf7+,Kh8,Bg7#', 'https://lichess.org/training/h5wMh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h65ni', 'Blitz', 'moeinkochaki', 1977, 'PlavaSenica', 1997, 'e4,e5,f4,exf4,Nf3,g5,d4,d6,Bc4,h6,O-O,Be6,Bb5+,Bd7,Bd3,Nc6,c4,Bg7,d5,Ne5,Nxe5,Bxe5,Nc3,Qe7,Nb5,Bc8,Qa4,Qd7', 'Nxc7+,Ke7,Qxd7+,Bxd7,Nxa8', 'https://lichess.org/training/h65ni');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h66pa', 'Blitz', 'Shoane', 1793, 'Ashley99', 1765, 'e4,e6,d4,g6,f4,b6,Bd3,Bg7,Be3,Bb7,Nf3,Qe7,O-O,Nc6,Nc3,O-O-O,d5,Nb4,a3,Bxc3,bxc3,Nxd3,Qxd3,exd5,exd5,Nf6,c4,Ng4,Bd4,Rhg8,h3,Nh6,Rfe1,Qd6,Be5,Qc5+,Kh1,Nf5,Kh2,d6,Bd4,Nxd4,Nxd4,Kb8,Nb3,Qf2,Rf1,Qh4,a4,Rge8,a5,f5,axb6,cxb6,Nd4,Re4,Nb5,Rxf4,Rxf4,Qxf4+,Kg1,Rc8,Nxa7,Rxc4,Nc6+,Bxc6,dxc6,Rxc6,Qa6,Qd4+,Kh1,Rxc2', 'Qa8+,Kc7,Ra7#', 'https://lichess.org/training/h66pa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h687h', 'Rapid', 'Kenigsberg72', 1901, 'radek40', 1766, 'd4,d5,Nf3,Nf6,e3,a6,Bd3,e6,O-O,c5,c3,Nc6,Nbd2,cxd4,exd4,Be7,Re1,O-O,Ne5,Re8,Ndf3,Qc7,Bf4,Bd6,Qd2,Nd7,Qe2,Nf8,Bg3,f6,Nxc6,Bxg3,hxg3,bxc6,Bc2,Bd7,Nd2,c5,Nb3,cxd4,cxd4,e5,Rac1,Qd6,Qh5,e4,Nc5,Bc6,Bb3,Ne6,Qg4,Nxd4,Nxe4,Qf8,Nd2,Nxb3,Nxb3,Bb7,Rc7,Rxe1+,Kh2,Rb8,Nd4,Bc8,Qf3,Rxb2,Qxd5+,Kh8,Qc4,Rbb1,g4,Rh1+,Kg3,Qd6+', 'f4,Rb8,Rxc8+,Qf8,Rxf8+', 'https://lichess.org/training/h687h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6biT', 'Blitz', 'Gabunia777', 1638, 'MundoB76', 1725, 'e4,d5,Nc3,d4,Nd5,e5,d3,f5,a3,fxe4,dxe4,Nf6,Bg5,Bc5,c4,dxc3,bxc3,Bxf2+,Ke2,Bc5,Nf3,c6', 'Nxf6+,gxf6,Qxd8+,Kxd8,Bxf6+', 'https://lichess.org/training/H6biT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h6C1N', 'Rapid', 'GiovanniPaoloII', 2166, 'guedisa', 2137, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,d3,d6,Nf3,e5,O-O,Nc6,Rb1,Bg4,h3,Be6,b4,Qc8,Kh2,a6,a4,Nd7,Ng5,a5,Nxe6,fxe6,b5,Nd4,e3,Nf5,Bb2,c6,Ba3,Qc7,Ne4,c5,Qb3,b6,Ng5,Rae8,e4,Nd4,Qd1,Nf6,Nf3,h5,Nxd4,exd4,Bc1,h4,g4,d5+,f4,dxc4,dxc4,g5,Kh1,Nh7,f5,exf5,exf5,Qg3,Rf3', 'Re1+,Qxe1,Qxe1+', 'https://lichess.org/training/h6C1N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h6cAL', 'Blitz', 'Patani7', 1864, 'losermcd', 1910, 'e4,e5,Nf3,Nc6,Bb5,f5,Nc3,fxe4,Nxe4,Nf6,d3,d5,Nxf6+,Qxf6,Bg5,Qf5,Qd2,Bd6,O-O-O,O-O,Rde1,Nb4,Kb1,a6,Ba4,b5,Bb3,c6,a3,a5,axb4,axb4,h4,Bd7,h5,Ra6,c3,Rfa8,h6,bxc3,Qxc3,b4,Qd2,Be6,hxg7,c5,Nh4,c4,Bxc4,dxc4,Nxf5,Bxf5,Kc2,Bxd3+,Qxd3,cxd3+,Kxd3,Rc6,Bf6,Rc5,Ra1,Rac8,Ra6,Rd5+,Ke4,Rd4+,Kf5,Rf4+,Ke6,Re8+,Kxd6,Rxf6+,Kd7,Rxa6,Kxe8,Kxg7,Rd1,Kf6,Rd7,h6,Rh7', 'Ra8+,Kd7,Ra7+,Kc6,Rxh7', 'https://lichess.org/training/h6cAL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6cLZ', 'Classical', 'Muratyukse', 1985, 'Ivandoncov', 1905, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,O-O,O-O,Re1,d6,d4,exd4,cxd4,Bb4,Nc3,Bg4,Bxc6,bxc6,Bg5,h6,Bh4,g5,Bg3,Re8,e5,Bxc3,bxc3,Nd5,c4,Nb6,Qd3,Bxf3,gxf3,dxe5,Bxe5,Qd7,Kh1,Re6,f4,Rae8,fxg5', 'Rxe5,Rxe5,Rxe5', 'https://lichess.org/training/H6cLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6eEs', 'Rapid', 'daca487', 1856, 'angrybyr', 1824, 'e4,c5,Nf3,d6,c3,Nf6,e5,dxe5,Nxe5,Nc6,Bb5,Qd5,Nxc6,bxc6,Be2,Qxg2', 'Bf3,Qg6,Bxc6+,Nd7,Bxa8', 'https://lichess.org/training/H6eEs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6fHb', 'Rapid', 'Peter-63', 2301, 'I_like_chess', 2286, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,a6,O-O,Ba7,Nbd2,d6,Bb3,O-O,h3,Ne7,d4,Ng6,Re1,c6,Nf1,h6,Ng3,Qc7,Be3,Bb8,Bc2,Rd8,Qd2,Kh7,Nf5,Ng8,Rad1,d5,Nxe5,Nxe5,dxe5,Qxe5,f4,Qc7,e5,g6,Nd6,Rxd6,exd6,Qxd6,Bd4,Be6,Be5,Ba7+,Kh1,Qd7,g4,f5,g5,h5,Bd4,c5,Be5,Rd8,Bb3,d4,Bxe6,Qxe6,Bc7', 'Qc6+,Qg2,Qxc7', 'https://lichess.org/training/H6fHb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6ibP', 'Classical', 'Mohammed_hussain22', 1953, 'fmr00c', 1849, 'e4,c5,Nc3,a6,g3,b5,Bg2,Bb7,d3,f5,Nh3,b4,Nd5,Bxd5,exd5,Nf6,d6,Ra7,dxe7,Bxe7,O-O,h6,Re1,O-O,Nf4,Qe8,Be3,Rc7,d4,Qf7,dxc5,Bxc5,Nd5,Rcc8,Bxc5,Rxc5,Nxb4,Qc4,a3,a5,Bf1,Qg4,Qxg4,fxg4,Nd3,Rxc2,b4,Nc6,b5,Nd4,Ne5,Nf3+,Nxf3,gxf3,b6,Rb2,Reb1,Rxb1,Rxb1,Rb8,b7,Ne4,Bc4+,Kf8,Bd5', 'Nc3,Rb3,Nxd5', 'https://lichess.org/training/H6ibP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6ioj', 'Rapid', 'Grinmaster', 1733, 'Scaryhorse7787', 1729, 'd4,e6,e4,d5,e5,c5,c3,c4,Nf3,Nc6,Be2,h6,O-O,g5,Nbd2,g4,Ne1,h5,f3,f5,fxg4,fxg4,Bxg4,hxg4,Qxg4,Be7,Qg6+,Kd7,Rf7,Rh6,Qg4,Kc7,Ndf3,Kb8,Bxh6,Nxh6,Qg6,Nxf7,Qxf7,Bd7,b3,Be8,Qxe6,cxb3,axb3,a5,Nd3,Ra6,Qf5,Bd7,Qf7,Na7,Qxd5,Qe8,Nc5,Bxc5,Qxc5,Rc6,Qxa5', 'Ra6,Qb4,Rxa1+', 'https://lichess.org/training/H6ioj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6JGW', 'Rapid', 'jovica26', 1826, 'SamTheBeast666', 1806, 'e4,e5,Bc4,Nc6,c3,Nf6,d3,d5,exd5,Nxd5,Nf3,Be6,O-O,Qd7,Re1,Bd6,Ng5,O-O-O,Nxe6,fxe6,Bb5,Rdf8,c4,Nde7,Be3,Qe8,Bxa7,Qf7,Bxc6,Nxc6,Be3,Nd4,Qa4,h5,Nc3,h4,Ne4,h3,Bxd4,exd4,Nxd6+,cxd6,Qa8+,Kc7,Qa5+,Kb8,Re2,hxg2,Qg5,Rh6,Rae1,e5,a4,Rf6,Qd2,Qh5,f4,Rxf4,Rxg2,Qf3,Qe2,Qe3+,Qxe3,dxe3,Rxg7,Rf2,b4', 'e2,Rxe2,Rxe2', 'https://lichess.org/training/H6JGW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h6LE0', 'Blitz', 'Kung4fuKenny', 1557, 'AGordienko', 1625, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Ngf6,O-O,e6,d4,Bd6,b3,Qc7,Na3,a6,c4,b6,cxd5,Nxd5,Bb2,O-O,Nc4,Be7,Nce5,Nxe5,Nxe5,f6,Rc1,Qd6,Nc6,Rac8,Nxe7+,Qxe7,Rxc8,Rxc8,Qd3,b5,Rc1,Qd7,h4,Nb4,Rxc8+,Qxc8,Qe4,Nxa2,d5,exd5,Qxd5+,Kh8,b4,Nxb4,Qe4,a5,Qe7,Nc6,Qc5,b4,h5,h6,g4,a4,g5,hxg5,h6,a3,Ba1,Qg4+,Kf1,Ne5', 'Qf8+,Kh7,Qxg7#', 'https://lichess.org/training/h6LE0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6mkC', 'Rapid', 'jonyarad', 1774, 'mohhmed10', 1825, 'e4,e6,Nc3,d5,exd5,exd5,d4,h6,Be3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,Nf3,c6,O-O,Bd6,Re1,O-O,Qd2,Kh7,Ne2,Ne4,Qd3,c5,Ng3,c4,Qd2,Ndf6,Nxe4,Nxe4,Qc1,b5,Nd2,f5,Nxe4,dxe4,c3,Qc7,g3,a5,Kg2,Qf7,Rh1,Qg6,h4,Qg4,h5,Qf3+,Kg1,Rf7,Bf4,Bxf4,Qxf4,Qg4,Qxg4,fxg4,Rh4,Raf8,Rf1,e3,Rxg4,exf2+,Kg2,Rf5,Re4,g6,hxg6+,Kxg6,Re6+,Kg5,Rb6,h5,Ra6,a4,Ra7,Kg6,Ra6+,Kg5,Ra7,R8f6,Rg7+,Kh6,Rd7,Kg6,d5,Kg5,d6,Rd5,Rg7+,Kh6,Rd7,Rdxd6,Rxd6,Rxd6,Rxf2,Rd3,Kh3,Kg5,Re2,Kf5,Kh4,Kf6,Rf2+,Kg6,Re2,Kf5,Rf2+,Ke4,Re2+,Kf3,Re5,Kf2,Rxb5,Rxg3,Rxh5,Kg2,Rb5,Rh3+,Kg4,Rg3+,Kf4,Rf3+,Ke4,Kf2,Kd5,Rf4,Rb4,Ke3,Rxc4,Rf2,Re4+,Kd2,c4,Kd3,c5,Rxb2,c6', 'Rb5+,Ke6,Kxe4', 'https://lichess.org/training/H6mkC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6mpi', 'Rapid', 'CommanderSlim', 1718, 'THEScorpion9', 1711, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,a6,Ba4,Nf6,d3,Bc5,Re1,O-O,e5,Nd5,Bb3,c6,c3,a5,cxd4,Bxd4,Be3,Bxb2,Nd2,Bxa1,Qxa1,Nxe3,Rxe3,d5,Rg3,a4,e6,f6,Bc2,Bxe6,d4,Qa5,Nf3,c5,Qb1,Kh8,Bxh7,cxd4,Rh3,Bxh3,gxh3,Rac8,Bf5,Rc3,Nxd4,Rc4,Ne6,Re8,Qd1,Rxe6', 'Qh5+,Kg8,Bxe6+,Kf8,Qf7#', 'https://lichess.org/training/H6mpi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h6OZe', 'Classical', 'Abu-Ghassan', 1887, 'pagb', 1862, 'e4,c6,c4,d5,exd5,cxd5,cxd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bf5,Qa4+,Nc6,Qf4,e6,Bc4,Qd7,O-O,Bd6,Qe3,O-O-O,Bb5,Kb8,Nd4,Rc8,Bxc6,bxc6,Nxf5,exf5,Qb3+,Ka8,d4,Rhe8,Bd2,Rb8,Qf3,Rxb2,Bc3,Rb5,Rab1,Reb8,Rxb5,Rxb5,Re1,g6,h3,Bc7,a4,Rb3,Re3,Rb1+,Be1,f4,Re2,Ba5,Qe4,Qe6', 'Qxb1,Qxe2,Bxa5', 'https://lichess.org/training/h6OZe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h6pSX', 'Classical', 'ConwyCastle', 2207, 'GM Enialios', 2350, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,d3,Bd6,Nbd2,c5,Nc4,Nd7,a4,O-O,Bg5,f6,Bd2,Nb8,O-O,Nc6,h3,Be6,Ne3,Qd7,a5,Nd4,Kh2,f5,Ng5,f4,Nxe6,Qxe6,Nd5,c6,Nc3,f3,g3,c4,Be3,cxd3,Qxd3,Rad8,a6,b5,Bxd4,exd4,Nb1,Rf6,Rh1,Rdf8,Kg1,Qe5,Nd2,Rg6,Nf1,h5,h4,Rg4,Rd1,Rxe4,c3,Bc5,cxd4,Bxd4,b4,Bb6,Qb3+,Kh8,Qb1,Re2,Rh2,Bxf2+,Rxf2,Rxf2,Kxf2', 'Qe2+,Kg1,Qg2#', 'https://lichess.org/training/h6pSX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h6RJb', 'Rapid', 'straszliwiec', 1832, 'nicaneur', 1767, 'b4,e6,Bb2,Nf6,a3,d5,e3,Be7,g3,O-O,Bg2,b6,d4,Ba6,Ne2,Nbd7,Nbc3,c6,O-O,Ng4,h3,Ngf6,Re1,Qc7,Nf4,Ne8,Bf1,Bxf1,Kxf1,Nd6,Nce2,Nc4,Rb1,Nf6,Nc3,h6,Ng2,Nh7,Qc1,Ng5,h4,Nh7,Kg1,Bd6,f4,Nf6,Qd1,h5,Bc1,Ng4,e4,dxe4,Nxe4,Rfe8,Nf2,Nxf2,Kxf2,g6,c3,f5,Ne3,Nxe3,Bxe3,Re7,Rb2,b5,a4,a6,a5,Qb7,Qf3,Rd7,Rd1,Re8,Rbd2,Kf7,Rd3,Kg8,Qg2,Kf7,Qf3,Kg8,Qg2,Kf7,R1d2,Kg8,Qf3,Kf7,Kg2,Kg8,Kh2,Kf7,Kh3,Kg8,Rd1,Kf7,Rc1,Rc8,Bd2,Re8,c4,bxc4,Rxc4,Rc8,Rb3,Qb5,Be1,Rb7,Qd3,Rbb8,Kg2,Qb7,Kh3,Rc7,Qc3,Qc8,Bd2,Rcb7,Rxc6,Qd7,Qc4,Bxb4,Bxb4,Rxb4,Rxb4,Rxb4,Qxb4,Qxc6,Qc5,Qxc5,dxc5,Ke7,Kg2,Kd7,Kf3,Kc6,Ke3,Kxc5,Kd3,Kb5,Kd4,Kxa5,Ke5,Kb4,Kxe6,a5,Kf6,a4,Kxg6,a3,Kxf5,a2,Kg5,a1=Q,Kxh5,Qd4,f5,Qg7,g4,Kc5,g5,Kd5,f6,Qf7+,Kh6,Ke5,h5,Kf5,g6,Qxf6,Kh7,Qe7+,g7,Kg5,h6,Qf7,Kh8,Kxh6,g8=Q', 'Qf6+,Qg7+,Qxg7#', 'https://lichess.org/training/h6RJb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6shb', 'Classical', 'Pingindra', 1837, 'CTAvish_B', 1993, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nd4,Bxd5+,Ke7,Qe4,Kd6,O-O,Bf5,Nb5+,Nxb5,Qxf5,Kxd5,Qf7+,Kd6,c4,Nd4,Qd5+,Ke7,Qxe5+,Ne6,d4,Qxd4', 'Bg5+,Kf7,Qf5+,Qf6,Bxf6', 'https://lichess.org/training/H6shb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6Wjn', 'Blitz', 'cybstrela', 1506, 'alejandromosquera', 1601, 'e4,e5,Qf3,Nc6,c3,Qe7,Bc4,f6,h3,a6,Qh5+,Kd8,Qf3,b5,Bd5,Bb7,Qe3,Na5,Bxb7,Nxb7,b4,a5,Ba3,axb4,Bxb4,Qf7,a3,Bxb4,cxb4,Ne7,Ne2,Nc6,O-O,g5,Nec3,Rg8,Nd5,g4,h4,Qh5,g3,Rg6,d3,Nd6,Nd2,Nd4,Ra2,c6,Nc3,Nf3+,Nxf3,gxf3,Kh2,Nf7,Qb6+,Ke8,a4,Nh6,Rfa1,Ng4+,Kg1,Nxf2,Kxf2,Qg4,Rg1,Qh3,axb5,Rxa2+,Nxa2,Qh2+,Kf1', 'Qe2#', 'https://lichess.org/training/H6Wjn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h6xnc', 'Rapid', 'Isabells', 1633, 'd2kelo', 1614, 'e4,c5,Bc4,e6,c3,Nc6,Nf3,g6,d4,cxd4,cxd4,Bg7,O-O,Nge7,Bg5,O-O,e5,d6,Re1,dxe5,Nxe5,Nxd4', 'Bxe7,Qxe7,Qxd4', 'https://lichess.org/training/h6xnc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h6YUH', 'Blitz', 'fakendafunk523', 1701, 'JaserErial', 1664, 'c4,e6,e4,f5,exf5,exf5,d3,Nf6,Bg5,Bc5,Nc3,Nc6,Nd5,Ne4,Bxd8', 'Bxf2+,Ke2,Nd4#', 'https://lichess.org/training/h6YUH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6Yyt', 'Classical', 'XB_Alekcei-73', 1755, 'Tintin41', 1820, 'b4,Nf6,b5,e5,Bb2,d6,c4,Nbd7,e3,Nc5,Qc2,Be7,h3,a6,a4,axb5,axb5,Rxa1,Bxa1,Be6,Nf3,h6,Be2,Qa8,Bc3,O-O,O-O,Rd8,d4,Nce4,dxe5,Nxc3,Qxc3,Ne4,Qb2,b6,Nd4,Bc8,Nc6,Re8,Bd3,Ng5,f4,Ne6,Nc3,dxe5,Nd5,Bc5,Qxe5,Bb7,Nxc7,Nxc7,Qxc7,Bxe3+,Kh1,Rc8,Qe5,Bc5,Ne7+,Kf8,Nxc8,Bxg2+,Kh2,Bxf1,Bxf1,Qxc8,Bg2,Qe6,Qb8+,Qe8,Qe5,Qxe5,fxe5,Ke7,Kg3,Ke6,Kf4,g5+,Ke4,h5,Bf3,h4,Bg4+,Ke7,Kf5,Be3,Ke4,Bf4,Kd5,f6,e6,Be3,Bf5,Bf2,Kc6,Bg1,Kb7,Kd6,Kc8,Bc5', 'Kd8,Ke5,e7,Kxf5,e8=Q', 'https://lichess.org/training/H6Yyt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H6ZWn', 'Rapid', 'Flasklilja', 1848, 'Harazistrong', 1827, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,c6,cxd5,cxd5,e3,a6,a3,Be7,Be2,Nf6,O-O,h6,Bd2,O-O,Qc2,Nbd7,Rfc1,b5,b4,Nb6,Nd1,Nc4,Nb2,Bd7,Nxc4,bxc4,Ne5,Be8,f3,Nd7', 'Nc6,Qc7,Nxe7+', 'https://lichess.org/training/H6ZWn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H75rg', 'Blitz', 'darceVadar', 1620, 'joao_lamesa', 1530, 'd4,d5,c4,Nf6,Nc3,c6,cxd5,cxd5,Nf3,Nbd7,Bf4,e6,e3,Be7,Bd3,O-O,O-O,a6,a4,b5,axb5,Bb7,bxa6,Bc6,Ne5,Nxe5,Bxe5,Nd7,Bg3,Nf6,h3,Bd6,Bxd6,Qxd6,f4,Ra7,Nb5,Bxb5,Bxb5,Rfa8,Qd3,Nd7,Ba4,Nb8,Bc2,Nxa6,Qxh7+,Kf8,Bd3,Nb4,Rxa7,Rxa7,Be2,Nc2,f5,Nxe3,Rf3,Nxf5,g4,Nh6,Qh8+,Ke7,Qxg7,e5,Qxe5+,Qxe5,dxe5,Ra2,Rb3,Ra1+,Kf2,d4,Rd3,Ra2,Rd2,f6,Bc4,fxe5,Bxa2,Kd6,Bc4,Kc5,Bd3,Kd5,Kf3,Nf7,Rc2,Nd6,b4,e4+,Bxe4+,Nxe4,b5,Nd6,b6,d3,Rc1,Kd4,Kf2,Ne4+,Ke1,d2+,Kd1', 'Kd3,h4,Nf2#', 'https://lichess.org/training/H75rg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H78PX', 'Classical', 'BigGameMigz', 1799, 'Eni_Oro', 1641, 'd4,d5,Bf4,Nc6,e3,Nf6,c3,e6,Nd2,Nh5,Qxh5,g6,Qd1,Bd6,Bg3,Bxg3,hxg3,Qe7,Ngf3,Bd7,Bd3,O-O-O,Ne5,Nxe5,dxe5,f6,exf6,Qxf6,Qf3,Qg7,O-O,Bc6,Qe2,h5,Nf3,g5,e4,g4,Nh4,d4,Rac1,e5,Rfd1,Ba4,b3,Bc6,cxd4,exd4,Ba6,Kb8,Bb5,d3,Bxd3,Rhe8,Bb5,Bxb5,Qxb5,c6,Rxd8+,Rxd8,Rxc6,Qa1+,Kh2,Rd1,Rc8+,Kxc8,Qc5+,Kd7,Qf5+,Kc6,Qe6+,Kc7,Qc4+,Kd7,Qf7+,Kd6,Nf5+,Kc6,Qc4+,Kd7,Qf7+,Kc6,Qc4+,Kb6,Qb4+,Kc7,Qc5+,Kd8', 'Qe7+,Kc8,Nd6+,Rxd6,Qxd6', 'https://lichess.org/training/H78PX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h7aVF', 'Blitz', 'superharti', 2093, 'Gipslisius', 2068, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,e3,Bb4+,Bd2,Qe7,Be2,Bxd2+,Qxd2,Ngxe5,O-O,d6,Nc3,Nxf3+,Bxf3,Ne5,Be2,Be6,b3,O-O,Rac1,b6,Rfd1,f5,Nd5,Bxd5,cxd5,a5,g3,Rf6,Rc2,Rc8,Rdc1,h6,Kg2,Rf7,Ba6,Qd8,Bxc8,Qxc8,h3,g5,f4,Ng6,Qd4,gxf4,exf4,Re7,Qf6,Qe8,h4,Re2+,Kh3', 'Nxf4+,gxf4,Qe3#', 'https://lichess.org/training/h7aVF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H7DTm', 'Rapid', 'irfan_jogja', 1946, 'grhfon11', 2085, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,c4,a6,Nc3,c5,Bd3,Bg4,O-O,Nc6,h3,cxd4,hxg4,dxc3,bxc3,Nxg4,cxd5,Qxd5,Qc2,Qh5,Be4,Be7,Bxc6+,bxc6,Qe4,O-O,Qxc6,h6,Rfd1,Bf6,Rab1,Rfc8,Qd7,Bxc3,Rb7,Bf6,Qd3,e5,Bg3,Rd8,Rd7,Rxd7,Qxd7,Rd8,Qa4,Rxd1+,Qxd1,Nxe3,fxe3,e4,Kf2,Qg4,Qd5,exf3,gxf3,Qa4,Qa8+,Kh7,Qe4+,Qxe4,fxe4,g5,Kf3,Kg6,e5,Be7,Ke4,h5,a4,a5,Be1,Bb4,Bxb4,axb4,a5,b3,Kd3,h4', 'a6,b2,Kc2', 'https://lichess.org/training/H7DTm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h7e88', 'Rapid', 'GeorgeHaddad', 1822, 'essy', 1810, 'e4,e6,Nf3,c6,Nc3,a6,d4,d5,exd5,cxd5,Bf4,b5,a3,Nd7,Bd3,Bb7,O-O,Rc8,h3,Ngf6,Bg5,Be7,Bxf6,Bxf6,b4,Nb6,Qe1,Qc7,Ne2,Nc4,Bxc4,dxc4,Ng3,Bxf3,gxf3,Bxd4,Rd1,Be5,Nh5,Qe7,f4,Bb2,Qe4,Bxa3,c3,a5,bxa5,Qh4,Nxg7+,Kf8,Qd4,Qxh3', 'Nxe6+,Qxe6,Qxh8+', 'https://lichess.org/training/h7e88');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h7FRr', 'Blitz', 'NM Titus369', 2548, 'supertolchok', 2438, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Be3,Be6,Qd2,c5,O-O-O,Qa5,a3,b5,Bf4,d5,Ng5,Bxg5,Bxg5,Nc6,Qe2,Rb8,Rxd5,O-O,Rxc5,Rfe8,Be3,Bc4,Qh5,Bxf1,Rxf1,Ne7,Rd1,Ng6,Rd7,a6,Qf5,Rf8,Rcc7,Rbe8,Rxf7', 'Qxc7,Rxc7,Rxf5', 'https://lichess.org/training/h7FRr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h7gCw', 'Rapid', 'jza', 1733, 'keinesau', 1860, 'e4,c5,Nf3,d6,Bc4,e6,O-O,Nf6,Nc3,d5,exd5,exd5,Bb5+,Nc6,d3,Be7,h3,O-O,Bg5,Be6,Bxc6,bxc6,Ne5,Qd6,f4,h6,Bh4,d4,Ne4,Nxe4,Bxe7,Qxe7,dxe4,Qc7,b3,a5,Nd3,c4,Nc5,cxb3,cxb3,Qb6,Rc1,Rad8,f5,Bc8,Kh1,Ba6,Rf2,Rfe8,Rfc2,Rd6,Nxa6,Qxa6,Rd2,Rxe4,Qf3,Re3,Qf4,Rd5,Rxd4,Rxd4,Qxe3,Rd5,Qe8+,Kh7,Qxf7,Qe2,Qg6+,Kh8,Rxc6', 'Rd1+,Kh2,Qe5+,Qg3,Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/h7gCw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H7HJQ', 'Rapid', 'Soren2k19', 1651, 'elasfar112', 1638, 'c4,e5,g3,c6,Bg2,Nf6,e3,d5,cxd5,cxd5,Ne2,a6,d3,Be6,O-O,Nc6,Nbc3,Be7,d4,e4,Nf4,Qd7,Nxe6,Qxe6,Qb3,b5,a4,bxa4,Nxa4,O-O,Nc5,Qc8,Qc3,a5,Na4,Qb7,b4,Qxb4', 'Qxc6,Rfc8,Qb6', 'https://lichess.org/training/H7HJQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H7kLH', 'Blitz', 'NM sergiojovelino', 2105, 'Baiano_UFRGS', 1988, 'e4,e5,Nf3,Bd6,Bc4,Nf6,d3,O-O,O-O,c6,Bg5,Bc7,Bb3,d6,Re1,Be6,Nbd2,Nbd7,c3,Rc8,Nf1,Bb8,Ng3,Qc7,h3,d5,Nh2,dxe4,dxe4,Bxb3,axb3,h6,Be3,a6,Qf3,Nh7,Nf5,Kh8,h4,Rg8,Ne7,Ndf6,Nxg8,Rxg8,g4,g5,h5,Qd6,b4,Qe6,Rad1,Nf8,Qg2,Qe8,f3,Ne6,Nf1,Nf4,Qh2,Qe6,Ng3,Qb3,Nf5,Kh7,Bxf4,exf4,Qd2,Be5,Re2,Bc7,Qd4,Rd8,Qxd8,Bxd8,Rxd8,Qa2,Red2,Qb1+,Kf2,Qh1,Rf8,Qh2+,Ke1,Qg1+,Ke2,Nxg4,fxg4,Qxg4+,Ke1,Qg1+,Ke2,Qg2+,Kd3,Qf3+,Kc2', 'Qxe4+,Kc1,Qxf5', 'https://lichess.org/training/H7kLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H7LbV', 'Rapid', 'PapaSmurf1', 1892, 'yheyachess', 1984, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,Be2,Be7,O-O,Nbd7,f3,b5,Qd2,O-O,Nd5,Nxd5,exd5,Bf5,Na5,Qc7,Nc6,Bf6,Bg5,Rac8,a4,Bxg5,Qxg5,Bxc2,Ne7+,Kh8,Nxc8,Rxc8,axb5,axb5,Rfc1,Qb6+,Kh1,Nf6,Bd3,Qf2,Rxc2,Rxc2,Ra8+,Ng8', 'Rxg8+,Kxg8,Qd8#', 'https://lichess.org/training/H7LbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h7O9q', 'Rapid', 'chuck-1', 1757, 'luxxar', 1838, 'd4,Nf6,c4,e6,Nc3,b6,Bg5,Bb7,Nf3,Be7,e3,h6,Bh4,c5,d5,d6,e4,Nbd7,Bd3,g5,Bg3,e5,O-O,Nh5,Rc1,Nf4,Bc2,h5,h3,g4,h4,gxf3,Qxf3,Bxh4,Rcd1,Rg8,Bxf4,exf4,Qxf4,Ne5,Ba4+,Kf8,Qh6+,Rg7,Qh8+,Ke7,Qxg7,Bc8,Qh6,Qg8,Qf4,Bg5,Qg3,h4,Qh2,Bf6,f4,Nxc4,e5,dxe5,fxe5,Bxe5,Qxh4+,Kd6,Qh6+,Qg6,Qf8+,Kc7,Qe7+,Kb8,Bc6,Bd6,Qxf7,Qg3,Bxa8,Qh2+,Kf2,Qg3+,Ke2', 'Qe3#', 'https://lichess.org/training/h7O9q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h7oc3', 'Classical', 'jansvensen', 2160, 'Mahoar', 2096, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Qb6,a3,c4,Rb1,Qa5,Qd2,b5,Be2,b4,axb4,Bxb4,O-O,Qc7,Qe1,a5,f5,Nb6,fxe6,Bxe6,Qg3,O-O,Nb5,Qd7,Bh6,f6,c3,Kh8,cxb4,gxh6,bxa5,Rxa5,Nd6,f5,Qf4,Qg7,Rbd1,Ra2,Rb1,Na4,Nh4,Nxb2,Ra1,Rfa8,Rxa2,Rxa2,Ndxf5,Qg5,Nxh6,Qxf4,Rxf4,Ra1+,Kf2,c3,Nf3,c2,Ng5,c1=Q', 'Rf8+,Kg7,Nxe6+,Kxh6,Rf6#', 'https://lichess.org/training/h7oc3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h7oy3', 'Rapid', 'Killer_Trio', 1647, 'Orochimaru1', 1958, 'Nc3,d5,Nf3,d4,Nb5,Nc6,e3,e5,Bd3,a6,Na3,Bxa3,bxa3,e4,Bxe4,Nge7,Bb2,dxe3,fxe3,O-O,Ng5,h6,Qh5,f5,Bxc6,Nxc6,Qg6', 'Qxg5,Qxg5,hxg5', 'https://lichess.org/training/h7oy3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h7QtX', 'Classical', 'kaitronus', 1627, 'Pkindia', 1653, 'e4,e5,Bb5,Nf6,d3,Bc5,Bg5,O-O,Nf3,a6,Ba4,b5,Bb3,h6,Bh4,Re8,O-O,a5,a3,a4,Ba2,d6,Nc3,Bg4,h3,Bxf3,Qxf3,Nc6,Nd5,Nd4,Nxf6+,Kh8,Qd1,d5,c3,Ne6,Nxe8,Qxh4,Nxg7,Kxg7,exd5,Nf4,Qf3,Kh7,Qe4+,Kg8,d4', 'Nxh3+,gxh3,Qxe4', 'https://lichess.org/training/h7QtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H7r7Q', 'Rapid', 'rafiquito', 1918, 'Rhum1', 1874, 'd4,Nf6,e3,e6,a3,c5,dxc5,Bxc5,b4,Bb6,c4,a5,Bb2,O-O,c5,Bc7,Nc3,b6,Nb5,bxc5,bxc5,Bb7,Bxf6,Qxf6,Nxc7,Qc3+,Ke2,Qxc5,Qc1,Qh5+,f3,Rc8,Qc3,Na6,g4,Rxc7,Qxc7,Qb5+,Ke1,Qb2,Qc1,Qf6,Bxa6,Bxa6,Kf2,Qh4+,Kg2,Rc8,Qe1', 'Rc2+,Ne2,Rxe2+,Qxe2,Bxe2', 'https://lichess.org/training/H7r7Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H7sne', 'Classical', 'garsenault', 1636, 'rodekio', 1662, 'e4,c5,Bc4,e6,d3,d5,exd5,exd5,Bb3,Nf6,Nf3,Bg4,O-O,Nc6,Re1+,Be7,Bg5,O-O,Nc3,d4,Bxf6,Bxf6,Ne4,Be7,h3,Bh5,g4,Bg6,Qd2,c4,Bxc4,Bb4,c3,dxc3,bxc3,Ba5,Rab1,Bb6,Rb5,Re8,Rg5,Kf8,Rxg6,hxg6,Nfg5,Ne5,Qf4,f6,Nxf6,gxf6,Nh7+,Kg7,g5,Kxh7', 'Qh4+,Kg7,Qh6#', 'https://lichess.org/training/H7sne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h7tEr', 'Blitz', 'TRUEnsal', 1865, 'Bormenkov', 1842, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,Nf6,Be3,O-O,Qd2,Nbd7,Bd3,e5,dxe5,dxe5,Bh6,a6,Bxg7,Kxg7,O-O-O,Nb6,Qe2,Qe7,Bc4,Nxc4,Qxc4,Be6,Qe2,Bg4,h3,Bxf3,Qxf3,Nh5,g4,Nf4,Ne2,g5,h4,h6,Nxf4,exf4,hxg5,hxg5,Rh5,Rh8,Rdh1,f6,Qd3,Rad8,Qc3,Qxe4,Qxc7+,Kg6,Rh7', 'Qxh1+,Rxh1,Rxh1#', 'https://lichess.org/training/h7tEr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h7vej', 'Rapid', 'brumia', 1812, 'Artichoke96', 1846, 'd4,d5,c4,e5,Nc3,dxc4,d5,f5,e4,Nf6,f3,Bb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/h7vej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H88NX', 'Rapid', 'MILON-2805', 1863, 'Shavo1976', 1987, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,e6,O-O,d5,exd5,cxd5,Kh1,Bc5,f4,Bb7,f5,O-O,fxe6,fxe6,Bg5,Be7,Bxf6,Bxf6,Nc3,Qe7,Qg4,e5,Bf5,d4,Be6+,Kh8,Nd5,Bxd5,Bxd5,Rac8,Rf3,Rxc2,Rh3,Rfc8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/H88NX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8BBN', 'Blitz', 'GNOATXELELITE', 2243, 'KING-SOLOMUN1', 2245, 'd4,d5,Nc3,Nc6,Bf4,a6,e3,Nf6,Nf3,Bg4,h3,Bh5,g4,Bg6,Ne5,e6,h4,h5,g5,Ne4,Nxg6,fxg6,Nxe4,dxe4,Bg2,Qd5,c3,Bd6,Bxd6,cxd6,Qc2,Ne7,Bxe4,Qa5,Bxg6+,Kd7,Bd3,b5,e4,b4,O-O,bxc3,bxc3,Rab8,e5,d5,c4,Rhc8,c5,Nc6,Qe2,Nxd4,Qxh5,Ke7,f4,Qxc5,Kg2,Rb2+,Kh3,Qa3,Qg6,Rg8,Rac1,Qxa2,Rc7+,Kd8,Rd7+,Kxd7,Qf7+,Kc6,Rc1+,Rc2,Bxc2,Qb2', 'Ba4+,Kb6,Qc7#', 'https://lichess.org/training/h8BBN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8DEQ', 'Classical', 'Tychofan', 1771, 'captainkhan1', 1795, 'e4,e5,Nf3,d6,Bc4,c6,d4,Nd7,dxe5,Nxe5,Nxe5,Qa5+,Nc3,Qxe5,O-O,Nf6,f4', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/h8DEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8faF', 'Blitz', 'Joeybantog', 1973, 'Pylypiv', 2038, 'd4,f5,c4,g6,Nc3,Bg7,Nf3,Nf6,g3,d6,Bg2,Nbd7,O-O,O-O,Re1,c6,e4,Nb6,exf5,Bxf5,Bg5,Nxc4,Qb3,d5,Ne5,Nxe5,dxe5,Nd7,Qxb7,Bxe5,Qxc6,d4,Nd5,Bf6,Nxe7+,Kh8,Nxf5,Bxg5,Nxd4,Rc8,Qa4,Qb6,Nf3,Nc5,Qd4+,Bf6,Qg4,Qxb2,Rab1,Qxa2,Rbc1,Qa5,Ng5,Nd3,Rxc8', 'Qxe1+,Bf1,Qxf2+,Kh1,Qxf1#', 'https://lichess.org/training/h8faF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8fYU', 'Classical', 'Sasim-123', 1736, 'OksKV', 1705, 'c4,e5,d3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Be6,a3,Bd6,Nc3,c6,Ne4,O-O,Nxd6,Qxd6,Nf3,h6,O-O,Nd7,Bd2,c5,Rc1,b5,Rc2,a5,Qc1,b4,axb4,axb4,Be3,Rfc8,Bxh6,b3,Qg5,g6,Rc4,N5b6,Nh4,Bxc4,Bxa8,Rxa8,Bg7,Kxg7', 'Nf5+,Kg8,Nxd6', 'https://lichess.org/training/h8fYU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H8Jfi', 'Classical', 'Dupabiskupa', 2016, 'LOUAY_ALZAHER', 2013, 'e4,b6,Nc3,Bb7,h3,e6,d3,Bb4,Qg4,Qf6,Nf3,Bxc3+,Bd2,Bxd2+,Nxd2,Nh6,Qg3,d6,c3,Nd7,d4,O-O-O,a4,e5,d5,Nc5,b4,Na6,a5,Nb8,Qh2,Qf4,g3,Qg5,Bb5,f5,h4,Qf6,axb6,axb6,Qh3,Rdf8,f3,Nf7,Ra7,g5,exf5,Nd8,c4,Qxf5,Qxf5+,Rxf5,Ke2,Rhf8,g4,R5f7,hxg5,c6,Ne4,Kc7,dxc6,Nbxc6,Bxc6,Nxc6,g6,hxg6,Rxb7+,Kxb7,Nxd6+,Kc7,Nxf7,Rxf7,Rh6,Rf6,g5,Re6,Rh7+,Kb8,b5,Nd4+,Ke3,Nf5+,Kd3,Ne7,c5,bxc5,Kc4,Kc7,Kxc5,Kb7,Rf7,e4,fxe4,Rxe4', 'Kd6,Kb6,Rxe7,Rg4,Re5', 'https://lichess.org/training/H8Jfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H8ki7', 'Rapid', 'Weteroc54', 2092, 'mumia50', 1842, 'e4,g6,d4,Bg7,Nc3,c6,f4,e6,Nf3,b6,Bc4,Ba6,Bxa6,Nxa6,Qe2,Nc7,Be3,Qc8,O-O-O,Qa6,Qxa6,Nxa6,Rhe1,Ne7,d5,cxd5,exd5,Bxc3,bxc3,Nxd5,Rxd5,exd5,Bd4+,Kd8,Bxh8,Kc7,Be5+,d6,Bf6,Kc6,Nd4+,Kc5,Re7,Kc4,Kd2,Nc5,Rxf7,Ne4+,Ke3,Nxc3,Ne2,Re8+,Re7,d4+,Nxd4', 'Nd5+,Kf3,Nxe7', 'https://lichess.org/training/H8ki7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H8Lk4', 'Rapid', 'jasse', 1864, 'Anton020472', 1627, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Nf6,Bg5,O-O,e5,h6,Bxh6,gxh6,exf6,Qxf6,Ne5,Rd8,Ng4,Qg5,h4,Qf4,g3,Qxd4', 'Bh7+,Kxh7,Qxd4', 'https://lichess.org/training/H8Lk4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8lq3', 'Rapid', 'josefortunato1964', 1980, 'yada', 1898, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bc4,f6,Nc3,c6,Be3,a5,Rd1+,Kc7,O-O,b5,Bxg8,Rxg8,b3,Be6,f4,g6,fxe5,fxe5,Bg5,h6,Bf6,Bg7,Be7,Rge8,Bc5,a4,h3,axb3,cxb3,Rab8', 'Bd6+,Kb7,Bxb8', 'https://lichess.org/training/h8lq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8N5I', 'Classical', 'EvanAdiananta', 1746, 'Lev_Tolstoy123', 1625, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd2,e5,Nf5,Bxf5,exf5,d5,Bg5,d4,Ne4,Be7,Bxf6,Bxf6,Qg4,Qb6,O-O-O,Nd7,f4,O-O,h4,Rac8,h5,Qc7,Bd3,exf4,h6,Ne5', 'Nxf6+,Kh8,Qxg7#', 'https://lichess.org/training/h8N5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H8NEt', 'Rapid', 'flachat69', 1600, 'OnTilt', 1740, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,O-O,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,d6,Qxc3,Nf6,Bg5,h6,Bh4,Rf8,e5,dxe5,Nxe5,Qd4,Qg3,g5,Re1,Ne4,Ng6,gxh4,Qxh4,Ne5,Qxe4', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/H8NEt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8nXt', 'Rapid', 'Starface', 1921, 'marmat2', 1772, 'e4,c5,Bc4,e6,Nc3,Nf6,d3,a6,a4,Be7,Nf3,O-O,O-O,Nc6,Re1,d6,Ne2,e5,h3,Nd7,Nc3,Nb6,Bd5,Be6,Bxe6,fxe6,Ne2,Rf7,c3,d5,exd5,Qxd5,c4,Qd7,a5,Rxf3,gxf3,Nc8,Ng3,Nd6,Ne4,Rf8,Nxc5,Qc8,Be3,Nf5,Ne4,Nh4,Nd2,Bb4,Bg5,Nxf3+,Nxf3,Bxe1,Nxe1,Nd4,Be3,Rf6,Bxd4,exd4,Qg4', 'Rg6,Qxg6,hxg6', 'https://lichess.org/training/h8nXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8t9a', 'Classical', 'cheetah6969', 1630, 'TommyRobinson72', 1699, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Qe7,cxd4,Bb4+,Bd2,Ne4,Bxb4,Qxb4+,Nbd2,Nxd2,Nxd2,Qxb2,O-O,Qxd4,Qe2,O-O,Nf3,Qc5,Rac1,Qe7,Bd5,Nb4,Bb3,d6,Qc4,d5,Qxc7,Qxc7,Rxc7,Na6,Re7,h6,Bxd5,Rb8,Rc1,Nb4,Bb3,Nc6,Rc7,Bg4,Ba4,Bxf3,gxf3,Nxe5,Re7,Nxf3+,Kg2,Nh4+,Kh3,Nf5,Rd7,Rfd8,Rcc7,Rxd7,Rxd7,h5,Bb3,Nh6,Bd5,Rc8,Rxb7,Rc2', 'Rb8+,Kh7,Be4+,g6,Bxc2', 'https://lichess.org/training/h8t9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8TzY', 'Rapid', 'marenzo', 1613, 'numain', 1628, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,Nc3,Be7,O-O,Nc6,b3,Nd4,Qd1,O-O,Bb2,a6,a4,b5,axb5,axb5,Rxa8,Qxa8,Bd3,c6,Ne2,Qb7,Nxd4,exd4,Bxd4,c5,Bxf6,Bxf6,Qe2,b4,Bc4,Be5,f4,Bd4+,Kh1,Kh8,Bd5,Qe7,Qg4,f6,f5,Be5,Qf3,Qe8,c3,bxc3,dxc3,Bxc3,Qxc3,Qb5,Rb1,Rb8,g4,Qe2,Bc4', 'Qxe4+,Kh2,Qxb1', 'https://lichess.org/training/h8TzY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8v4e', 'Classical', 'Zacherie', 1619, 'KP2001', 1648, 'd4,d5,c4,dxc4,e4,b5,a4,c6,Nc3,Qa5,Bd2,e6,axb5,Qb6,bxc6,Nxc6,Qa4,Bd7,Bxc4,Nxd4,Qd1,Qxb2,Nge2,Nc2+,Kf1,Nxa1,Na4,Bxa4', 'Qxa4+,Ke7,Bb4+,Kf6,Bc3+,Qxc3,Nxc3', 'https://lichess.org/training/h8v4e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8xMD', 'Classical', 'LARASYNTA', 1786, 'NCOJE', 1769, 'c4,d5,Nc3,dxc4,e4,Be6,Nf3,f6,Qa4+,Qd7,Qb4,Qc6,Nd4,Na6,Qa5,Qd7,Nd5,c6,Nxe6,Qxe6,Qxa6', 'Qxe4+,Ne3,bxa6', 'https://lichess.org/training/h8xMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h8Yr6', 'Rapid', 'nestorgabrielk', 1629, 'emremaster', 1967, 'g3,d5,Bg2,c5,d4,cxd4,Qxd4,Nf6,Nf3,Nc6,Qd1,e5,e3,Bg4,Qd2,Bb4,c3,Be7,O-O,O-O,b3,Ne4,Qe1,h5,Bb2,h4,Nxh4,Bxh4,gxh4,Qxh4,f3,Qh6,fxg4,g6,Nd2,Nc5,Qe2,e4,Ba3,b6,Bxc5,bxc5,c4,Nb4,a4,Nc2,Ra2,Nxe3,cxd5,Nxf1,Kxf1,f5,Nc4,fxg4+,Kg1,Rf3,Bxf3,exf3,Qe3,Qh3,Qxc5,Re8,Qf2,Kg7,Rd2,Re4,d6,g3,hxg3,Rg4,Qh2', 'Rxg3+,Qxg3,Qxg3+', 'https://lichess.org/training/h8Yr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h95FN', 'Rapid', 'FM fito2', 2521, 'rattascalpel', 2413, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qd2,bxc6,Nc3,Rb8,Bd3,Ne7,O-O,h6,Kh1,O-O,f4,d6,e5,Qh4,Ne4,Nf5,Qe1,Qxe1,Rxe1,Bb4,c3,Ba5,b4,Bb6,a4,d5,Ng3,Nxg3+,hxg3,a5,Ba3,Re8,Re2,Bg4,Rb2,f6,Bg6,Red8,Rab1,Ra8,bxa5,Rxa5,Be7,Rda8,exf6,gxf6,Bxf6,Rxa4,Kh2,Ra2,Rxa2,Rxa2,Re1,Re2,Ra1,Bc5,Ra8+,Bf8,Kg1,Re6,Bh7+,Kf7,Be5,Bd6', 'Bg8+,Ke7,Bxe6', 'https://lichess.org/training/h95FN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h96jj', 'Rapid', 'SSVD', 2068, 'groot786', 2017, 'e4,e5,Nc3,Nc6,f4,d6,Nf3,Be7,Bc4,Be6,Bxe6,fxe6,fxe5,Nxe5,O-O,Nf6,Nxe5,dxe5,d4,Qxd4+,Kh1,O-O-O,Qf3,Rhf8,Be3,Qc4,Qh3,Nxe4,Rxf8,Rxf8', 'Nxe4,Qxe4,Qxe6+', 'https://lichess.org/training/h96jj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H99x5', 'Rapid', 'enCoriolis', 1758, 'lenicky', 1683, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Nc6,d4,Be7,Bxf4,Nf6,O-O,O-O,Nc3,Bg4,h3,Bh5,g4,Bg6,e5,dxe5,Nxe5,Nxe5,Bxe5,Ne4,Qf3,Nxc3,bxc3,Bd6,h4,Bxe5,dxe5,Qxh4,e6,Qe7,Rae1,c6', 'exf7+,Bxf7,Rxe7', 'https://lichess.org/training/H99x5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9dIT', 'Rapid', 'andrei70ster', 2112, 'tukipenda', 2199, 'c4,Nf6,Nc3,e6,Nf3,Bb4,e3,O-O,Qb3,c5,a3,Ba5,d3,Nc6,Bd2,b6,Be2,Bb7,O-O,d5,Rad1,d4,Ne4,Bxd2,Nxf6+,Qxf6,Nxd2,e5,e4,Ne7,g3,Qe6,Bf3,Qd7,Bg2,f5,Bh3,g5,Bg2,f4,Nf3,g4,Nd2,f3,Bh1,Qe6,Rfe1,a6,Nf1,h5,Qc2,Rfc8,b4,cxb4,axb4,b5,c5,a5,bxa5,Rxa5,Qd2,Ra2,Qg5+,Ng6,Qxh5,Rxc5,Rd2,Rxd2,Nxd2,Rc7,h4,gxh3,Nxf3,Rh7', 'Qxh7+,Kxh7,Ng5+,Kg7,Nxe6+', 'https://lichess.org/training/h9dIT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9EIO', 'Blitz', 'geldar', 1927, 'reza2014', 1839, 'd4,d5,c4,e6,Nc3,c5,Nf3,Nf6,Bg5,Be7,Bxf6,Bxf6,e3,cxd4,Nxd4,Nc6,cxd5,exd5,Bb5,Bd7,Nxc6,bxc6,Ba6,Qa5,Bb7,Rb8,Bxc6,Bxc6,O-O,Bxc3,bxc3,Qxc3,Rc1,Qf6,Qc2,Bd7,Qc7,Rd8,Qxa7,O-O,Rc7,Be6,Rb1,Ra8,Qc5,Rxa2', 'Qxf8+,Kxf8,Rb8+,Bc8,Rbxc8+,Qd8,Rxd8#', 'https://lichess.org/training/h9EIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H9eoB', 'Blitz', 'UhnTissBaby', 1761, 'chem2015', 1776, 'e4,e5,Nf3,Nf6,Nc3,d6,d4,exd4,Nxd4,Be7,Bd3,O-O,O-O,Bg4,Be2,Bxe2,Qxe2,Nbd7,Nf5,Re8,Nxe7+,Qxe7,Bg5,Qe5,Bxf6,Nxf6,f3,d5,Rae1,dxe4,fxe4,Re6,Rf5,Qd4+,Kh1,Rae8,e5,Nd7,Qb5,Nxe5,Nd5,Ng6,Rxe6,Rxe6,Rf1,c6,c3,Qe4,Qxb7,cxd5', 'Qxf7+,Kh8,Qf8+,Nxf8,Rxf8#', 'https://lichess.org/training/H9eoB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9FfF', 'Rapid', 'Marlov', 1855, 'Samiali1263', 1829, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,h6,c3,Be7,Re1,O-O,d4,exd4,cxd4,d5,exd5,Nxd5,Nc3,Be6,h3', 'Nxc3,bxc3,Bxc4', 'https://lichess.org/training/h9FfF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9i7k', 'Rapid', 'MaldivaBalley', 1763, 'Modnar', 1788, 'e4,g6,d4,Bg7,c4,e6,Nc3,Ne7,Bg5,f6,Be3,Kf7,Qd2,Nbc6,Nf3,d6,g4,g5,Bxg5,fxg5,Nxg5+,Ke8,Qf4,Rf8,Qe3,Bxd4,Qh3,Ne5,f4,Rxf4,Qh5+,Kd7,Ne2,Bxb2,Nxf4,Bxa1,Ngxe6,Bc3+,Kd1,Qg8,h3,Kc6,Kc2,Bd4,Nxd4+,Kc5,Nd3+,Kxc4,Nxe5+,Kxd4,Nf3+,Ke3,Qh6+,Kxf3,Be2+,Kxe4,Bd3+,Kd5,Qh5+,Kc6', 'Qb5#', 'https://lichess.org/training/h9i7k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9iqw', 'Rapid', 'NachoCarcamo', 2209, 'babayakayankes', 2118, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,c6,Nf3,d6,O-O,a6,a4,O-O,Nc3,Nbd7,h3,Rb8,e4,e5,Be3,exd4,Nxd4,Ne5,b3,Re8,f4,Ned7,Qd2,Nh5,Kh2,Nc5,b4,Bxd4,bxc5,Bxe3,Qxe3,Be6,Rfd1,Qa5,Rxd6,Bxc4,Rad1,Bb3,Rb1,Be6,f5,Bxf5,g4,Ng7,gxf5', 'Nxf5,Qd3,Nxd6', 'https://lichess.org/training/h9iqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H9Kdd', 'Rapid', 'Chess657', 1988, 'amrooo222', 1977, 'e4,c5,Nc3,Nc6,Bb5,a6,Bxc6,dxc6,Nf3,Nf6,e5,Nd5,Ne4,e6,c4,Nf4,O-O,h6,d4,Ng6,dxc5,Qc7,Nd6+,Bxd6,cxd6,Qb6,b3,O-O,d7,Bxd7,Qxd7,Rad8,c5,Qxc5,Qxb7,Nxe5,Nxe5,Qxe5,Ba3,Rb8,Qxc6,Rfc8,Qd6,Qg5,Rfd1,Rd8,Qe7,Rxd1+,Rxd1,Qxe7,Bxe7,Kh7,g3,Rc8,Kg2,Rc2,a4,e5,a5,e4,Re1,f5,b4,Kg6,Bc5,Kh5,h4,g5,hxg5,hxg5,Rh1+,Kg4,Rh6,f4,gxf4,gxf4,Rg6+,Kf5,Rxa6,e3,Kf1,e2+,Ke1,f3,Be3,Rb2,Rc6,Rxb4,a6,Rh4,Rh6,Rg4,Rh1,Ra4,a7', 'Ra1+,Kd2,Rxh1,a8=Q,e1=Q+', 'https://lichess.org/training/H9Kdd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9kgj', 'Rapid', 'Mobpshyco100', 2295, 'ADRIAN0077', 2072, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,e6,Nbd2,c5,c3,Nc6,Bb5,Bd6,Ne5,Qc7,O-O,O-O,Bxc6,bxc6,Qa4,Nd7,Ndf3,Rfc8,Nxd7,Qxd7,Bxd6,Qxd6,b4,c4,Rfc1,a5,a3,axb4,Qxb4,Qc7,a4,Rcb8,Qc5,Ra5,Qa3,Rb3,Qa2,h6,Nd2,Rb7,e4,Bg6,f3,f5,Rcb1,Rxb1+,Rxb1,fxe4,fxe4,Kh7,Rf1,Qa7,Ra1,c5,dxc5,Qxc5+,Kh1,Qe3,exd5,exd5,Qb2,Qa7,Qb4,Bc2,Qb2,Bxa4,Nf3,Bc6,Re1,Ra2,Qb1+,Kg8,Nd4,Bd7,Qg6,Ra1,Qg3,Rxe1+,Qxe1,Qa2,h3,Qb2,Qe5,Qc1+,Kh2,Qxc3', 'Qxd5+,Kh7,Qxd7', 'https://lichess.org/training/h9kgj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H9Kik', 'Blitz', 'mychesscz', 1666, 'tressis17', 1667, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Nxd4,Nf6,Nc3,Be7,O-O,O-O,Re1,Ne5,Bb3,c5,Nf5,Bxf5,exf5,c4,Ba4,Qa5,Bg5,b5,Bxb5,Rab8,Ba4,Rxb2,Rb1,Qxc3,Rxb2,Qxb2,Bxf6,Bxf6,Qxd6,Qxa2,Bc6,Qxc2,h3,Nd3', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/H9Kik');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H9lwY', 'Rapid', 'iqbalrmn', 1932, 'gugabom', 1947, 'b4,e5,Bb2,Nf6,b5,Bd6,Nf3,O-O,Bxe5,Bxe5,Nxe5,Qe7,Nd3,c6,a4,d5,c3,c5,e3,Bf5,Be2,c4,Nf4,g5,Nh5,Nxh5,Bxh5,Qe4,Bf3,Qd3,Be2,Qe4,O-O,g4,d3', 'cxd3,Qxd3,Qxd3,Bxd3,Bxd3', 'https://lichess.org/training/H9lwY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9sef', 'Blitz', 'Lhy1997', 2347, 'CM RomanHerrmann26', 2354, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Nf3,c5,dxc5,Nc6,g3,Bxc5,Bg2,b6,O-O,Bb7,a3,d5,Rd1,Qc8,cxd5,exd5,b4,d4,bxc5,dxc3,Qxc3,Ne7,Bb2,Ned5,Qe5,Re8,Qg5,h6,Qd2,Qxc5,Rac1,Qb5,Nd4,Qd7,Qd3,Rad8,Nf5,Qe6,Nd4,Qg4,e3,Ba8,Qf5,Qxf5,Nxf5,Kh7,Nd4,Ne4,Rc4,Bb7,a4,a6,Rdc1,Nef6,Ba3,Rc8,Rxc8,Rxc8,Rxc8,Bxc8,Kf1,Bd7,a5,b5,e4,Nc3,e5,Nfd5,Ke1,b4,Bb2,Bb5,Kd2,Bc4,f4,Na4,Ba1,Nc5,Nc6,Nb3+,Kc2,Nxa1+,Kb2,Nb3,Bxd5,Bxd5,Nxb4,Be6,Nxa6,Nd4,Nc7,Bc4', 'Kc3,Nc6,Kxc4', 'https://lichess.org/training/h9sef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9T1I', 'Blitz', 'law123456789', 2292, 'FM MrBini', 2341, 'c4,e5,g3,Nf6,Bg2,Bc5,Nc3,O-O,d3,h6,Nf3,d6,a3,a6,O-O,Nc6,b4,Ba7,Bb2,Bf5,b5,axb5,cxb5,Na5,Qc2,Qd7,Rac1,Be6,Qb1,Nb3,Rc2,Bc5,a4,Nd4,Nxd4,exd4,Ne4,Nxe4,Bxe4,d5,Rxc5,dxe4,dxe4,Rxa4,Rd1,Rb4,Qc2,Rxb5,Rxc7', 'Rxb2,Rxd7,Rxc2', 'https://lichess.org/training/h9T1I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9tgj', 'Classical', 'davebar96', 1828, 'mtraxler', 1783, 'd4,d5,c4,e6,cxd5,exd5,Bf4,Nf6,h3,Bd6,Bxd6,Qxd6,Qb3,Nc6,Nf3,O-O,e3,Rb8,Nc3,a6,Rc1,Bf5,Nh4,Bg6,Nxg6,hxg6,Be2,Rfe8,O-O,Ne7,Bf3,c6,Rcd1,Nf5,Rfe1,Nh4,Be2,Nf5,Bg4,Nxg4,hxg4,Ne7,e4,dxe4,Nxe4,Qd7,Qh3,f6,f3,Nd5,Kf2,Kf7,Qg3,Rbd8,Nc5,Qc8,Rxe8,Rxe8,Re1,Rxe1,Kxe1,Qe8+,Ne4', 'f5,gxf5,gxf5', 'https://lichess.org/training/h9tgj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9u4C', 'Rapid', 'Riddik087564', 1943, 'ermolov-z', 1929, 'd4,g6,Bf4,Bg7,Qd2,d6,Nf3,Nf6,Bh6,O-O,Bxg7,Kxg7,Nc3,Nc6,e3,Bf5,Bd3,Be6,a3,Na5,Qe2,a6,Ng5,Bd7,Nge4,b5,Nxf6,exf6,h4,h5,f3,c6,g4,hxg4,fxg4,Qe7,O-O-O,Nc4,Bxc4,bxc4,h5,d5,hxg6,fxg6,Rh2,Rh8,Rdh1,Rxh2,Qxh2,Rg8,Qh7+,Kf8,Qh6+,Qg7,Qf4,Qe7,Na4,g5,Qf3,Kg7,Nc5,Bc8,e4,Rh8,Rf1,Rh4,Rg1,dxe4,Nxe4,f5,gxf5,Rxe4', 'f6+,Qxf6,Qxe4', 'https://lichess.org/training/h9u4C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9UEi', 'Rapid', 'Namaarius', 1995, 'FischerBoy', 2046, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,Nf6,Bg5,a6,e5,h6,exf6,hxg5,fxg7,Bxg7,c3,d5,Bb3,g4,Nfd2,f5,Qe2,Bd7,Nf1,Qc7,Nbd2,d4,c4,Nb4,O-O-O,a5,a3,a4,Bc2,Nxc2,Kxc2,Qa5,f3,gxf3,Nxf3,b5,cxb5,Qxb5,Rb1,Qb3+,Kc1,Rb8,Ng3,Bh6+,Nd2,Ke7,Nxf5+,Kd8,Nxh6,Qd5,Nf7+,Kc7,Nxh8,Rxh8,Nc4,Rg8,Qe5+,Qxe5,Nxe5,Be8,g3,Rh8,h4,Kd6,Nc4+,Ke7,g4,Bc6,Rh2,Bb5,Ne5,Kf6,Nf3,Bxd3,Ra1,e5,Kd2,e4,Ne1,Bb5,Rc1,e3+,Kd1,c4,Nc2,Ke5,g5,Be8,Nb4,Bh5+,Ke1,Rc8,Rg2,Bf3,Rg3,Kf4,Rg1,d3,Nxd3+,cxd3,Rxc8', 'd2+,Kf1,d1=Q#', 'https://lichess.org/training/h9UEi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('H9UjX', 'Blitz', 'antonoo', 1835, 'araldavuteserli', 1835, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Re8,Be2,a6,O-O,b5,a4,Nxd4,Bxd4,Bb7,axb5,axb5,Rxa8,Bxa8,Bxb5,Nh5,Bxg7,Kxg7,Rd1,Rf8,Qxd7,Qb6+,Kh1,Nf4,Qxe7,Kg8,Rd7,Qf2,Qg5', 'Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/H9UjX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9uZu', 'Rapid', 'Harcos', 1790, 'Alekol', 2041, 'e4,d6,Nf3,Nf6,Bc4,Nbd7,d3,c6,O-O,b5,Bb3,h6,c4,b4,a4,a5,h3,g6,Be3,Bg7,Qd2,c5,Qc1,Bb7,Nbd2,e5,Qc2,Nf8,Rae1,Ne6,g3,O-O,Kg2,Nh7,Rh1,Nhg5,Nxg5,Nxg5,Nf3,Nxf3,Kxf3,f5,Kg2,f4,Bd2,g5,g4,Bf6,f3,Ra7,Rh2,Bc8,Reh1,Rh7,Bc1,Bd7,Kg1,Kg7,Ba2,Rfh8,b3,Qe8,Qf2,h5,Bb1,hxg4,hxg4,Rxh2,Rxh2,Rh4,Rxh4,gxh4,Kh2,Bg5,Kh3,Kf6,Bd2,Bxa4,bxa4,Qxa4,Qe1,Qb3,Qc1,a4,Qc2,Qxc2,Bxc2,b3,Bb1', 'a3,Ba2,bxa2', 'https://lichess.org/training/h9uZu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9x7A', 'Blitz', 'JO0O0KER', 2258, 'Husslock', 1995, 'd4,d5,e3,c6,Nf3,Nf6,Bd3,a6,c3,Bg4,Nbd2,Nbd7,O-O,e6,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bc2,Be7,h3,Bh5,Bf4,Bd6,Be5,Bxe5,dxe5,Qxd1,Raxd1,Bxf3,gxf3,Nd5,a3,O-O,Rd4,c5,Rg4,Rad8,Kh2,b5,Rfg1,c4', 'Rxg7+,Kh8,Rxh7#', 'https://lichess.org/training/h9x7A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9YLo', 'Rapid', 'KTiani', 1630, 'queen_s_gambit', 1629, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,e6,a3,Be7,f5,exf5,Bxf7+,Kxf7,O-O,Nf6,exf5,Bxf5,Ng5+,Kg6,Qf3,Bg4,Qd3+,Kxg5,Qg3,Rf8,h3,Qd7,hxg4,Qxg4,d4+,Kg6', 'Rxf6+,Bxf6,Qxg4+', 'https://lichess.org/training/h9YLo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('h9zzo', 'Classical', 'jugigalo', 1629, 'batakyusuf', 1609, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,c6,Ba4,Bd6,Qf3,Nf6,d3,h6,Bf4,Bxf4,Qxf4,O-O,e5,Nd5,Qxd4,Qg5,Nc3,Nxc3,Qxc3,b5,Bb3,Bb7,d4', 'c5,Qh3,c4', 'https://lichess.org/training/h9zzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hA2kY', 'Blitz', 'chosh0126', 2280, 'CM RomanHerrmann26', 2428, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,Qe2,e6,d4,Nd7,Bf4,Ndf6,Nc5,b6,Nd3,Bd6,O-O-O', 'Bxd3,Rxd3,Bxf4+', 'https://lichess.org/training/hA2kY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hA5tf', 'Rapid', 'amged2019', 1696, 'ahmed7777777', 1735, 'e4,e5,Bc4,Nf6,Nc3,Bc5,d3,O-O,Nf3,Nc6,Bg5,Be7,O-O,d6,h3,Na5,Bxf6,Bxf6,Nd5,Nxc4,Nxf6+,Qxf6,dxc4,Be6,b3,Qg6,Nh4,Qg5,Nf3,Qg6,Nh4,Qxe4,Nf3,Qf4,Qd2,Qf6,Nh2,Qg6,Kh1,f5,f4,e4,Qb4,Rab8,Qa5,b6,Qxa7,Rfc8,Qa4,Qf7,Qc6,Bd7,Qd5,Be6,Qd2,Bd7,Rae1,Bc6,Re3,Ra8,a4,Qf6,g4,Rd8,gxf5,Qxf5,Ng4,d5,Qg2,d4', 'Nh6+,Kh8,Nxf5', 'https://lichess.org/training/hA5tf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hA7jw', 'Rapid', 'Mseserovich', 1832, 'ElessarWebb', 1825, 'e4,g6,Nc3,Bg7,f4,Nc6,d4,e6,Nf3,Nge7,d5,exd5,exd5,Bxc3+,bxc3,Nb8,Qd4,O-O,Bd3,d6,O-O,Nf5,Bxf5,Bxf5,Re1,Nd7,h3,Qf6,g4,Bxc2,Qb4,Nc5,Be3,a5,Qb5,Qxc3,Rac1,Nd3,Bd4,Qb4,Qxb4,Nxb4,Re7,Rac8,Bf6,Nxd5,Rxc2,Nxf6,Rexc7,Rxc7,Rxc7,Re8,Rxb7,Re2,Rb8+,Kg7,a4,Re4,Rb7,Rxf4,Ng5,Nxg4', 'Ne6+,Kh6,Nxf4', 'https://lichess.org/training/hA7jw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hA7pu', 'Classical', 'ericklanford', 1953, 'alizare1997', 1872, 'e4,e6,Nf3,d5,exd5,Qxd5,Nc3,Qd8,d4,Be7,Be3,Nf6,h3,O-O,a3,Nbd7,Bd3,b6,g4,Bb7,Rg1,h6,Qd2,Bxf3,Bxh6,Nh7,Bxg7,Kxg7,Bxh7,Kxh7,Qd3+,f5,Qxf3,Bg5,gxf5,Rxf5,Qh5+,Bh6', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/hA7pu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HA7wE', 'Blitz', 'WCM Wissal03', 1954, 'WIM ChaCham', 2069, 'd4,e6,Bf4,d5,Nf3,Nf6,e3,Bd6,Ne5,O-O,Bd3,b6,Nd2,Bb7,c3,Nbd7,Ndf3,Ne4,O-O,f6,Nxd7,Qxd7,Bxd6,Qxd6,Bxe4,dxe4,Nd2,e5,a4,exd4,cxd4,Rad8,a5,b5,a6,Ba8,f3,exf3,Nxf3,c5,dxc5,Qxc5,Qb3+,Bd5,Qc3,Qxc3,bxc3,Bc4,Rfd1,Kf7,Kf2,Ke7,Rxd8,Rxd8,Nd4,Rd7,e4,g6,Ke3,Kd6,Rf1,Ke5,Rf4,Rc7,Rh4,h5,g4,hxg4,Rxg4,g5,h4,gxh4,Rxh4,b4,Rh5+,Kd6,Nf5+,Ke6,Kf4,bxc3,Rh8,Kf7', 'Rh7+,Kf8,Rxc7', 'https://lichess.org/training/HA7wE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HA8ak', 'Blitz', 'SGMJames', 2131, 'Jemar', 2066, 'd4,Nf6,Nf3,d5,c4,e6,Bg5,Bb4+,Nc3,O-O,a3,Bxc3+,bxc3,Nbd7,e3,c5,cxd5,exd5,Ne5,Qa5,Qd2,Ne4,Qc2,Nxg5,f3,cxd4,exd4,Re8,O-O-O,Nxe5,dxe5,Bf5,Bd3,Rac8,Kb2,Bd7,f4,Ba4,Qd2,Rc6,Rb1,d4,Ka1,Rxc3,Qa2,Rxd3,Rxb7,Ne4', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/HA8ak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ha8ke', 'Rapid', 'mkmk1205', 1640, 'Marabanov', 1657, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bb4,Nd5,Nxd5,exd5,Na5,a3,Nxc4,axb4,b6,d3,Nd6,Nxe5,Qe7,O-O,O-O,Nf3,Nb7,Re1,Qf6,c3,d6,Bg5,Qg6,Qd2,Bg4,Qf4,Bxf3,Qxf3,Qxg5,c4,Rae8,c5,dxc5,bxc5,Nxc5,b4,Rxe1+,Rxe1,Nb3,d4,Nxd4,Qc3,Nf5,Qxc7,h6,Qxa7,Rd8,Rd1,Rxd5', 'Qa8+,Kh7,Qxd5', 'https://lichess.org/training/Ha8ke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ha8Uz', 'Rapid', 'YonchRibak', 1843, 'Vininap', 1843, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,h6,Bh4,Be7,Qf3,e5,fxe5,dxe5,Nde2,Bg4,Qg3,Nbd7,O-O-O,O-O', 'Bxf6,Nxf6,Rxd8', 'https://lichess.org/training/ha8Uz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HAAG7', 'Rapid', 'Winzeter', 1916, 'AbhijitJyoti', 1879, 'd4,Nf6,Nf3,g6,c4,d5,e3,Bg7,Nc3,c6,Qb3,O-O,cxd5,cxd5,Be2,b6,O-O,Be6,Bd2,Nc6,Rfc1,Ne4,Be1,Na5,Qa4,Nc4,Nxe4,dxe4,Bxc4,exf3,Bxe6,fxe6,gxf3,Rxf3,Qc6,Rf6,Bc3,e5,Qc4+,Rf7,dxe5,Rc8,Qd4,Qc7,f4,Rd8,Qe4,Qd7,Rd1', 'Qg4+,Kf2,Rxd1,Rxd1,Qxd1', 'https://lichess.org/training/HAAG7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hAai5', 'Blitz', 'odoaker2015', 1753, 'begon', 2001, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Nf3,d6,cxd4,Nc6,Bc4,Nb6,Bb3,Bg4,Bxf7+,Kxf7,Ng5+,Kg8,Qxg4,Qc8,e6,Nd5,Qf5,Nf6,d5,Nd4,Qf4,Nc2+,Kf1,Nxa1,Nc3,Nc2,Nf7,Nxd5', 'Nh6+,gxh6,Qf7#', 'https://lichess.org/training/hAai5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HAalU', 'Rapid', 'Radzivil', 1638, 'Apostol7777', 1777, 'e4,d5,exd5,Qxd5,Nc3,Qf5,Nf3,e5,Qe2,Bd6,Nb5,Nc6,Nxd6+,cxd6,d3,Nge7,Qe4,Qf6,Bg5,Qg6,Bxe7,Nxe7,Qxg6,Nxg6,d4,Bg4,dxe5,Bxf3,gxf3,dxe5,Bb5+,Ke7,O-O-O,Rhd8,Rhe1,f6,Bd3,Kf7,Bc4+,Kf8,Rd5,Rac8,b3,Nf4,Ra5,a6,h4,Rc6,Rd1,Rdd6,Bd5,Ne2+,Kb2,Rb6,c4,Nf4', 'c5,Rxd5,Rxd5,Nxd5,cxb6', 'https://lichess.org/training/HAalU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hABtS', 'Rapid', 'Dtronn', 1762, 'vnjadhav', 2240, 'e4,c5,Nc3,Nc6,Bc4,d6,d3,e5,Nf3,h6,a3,Nf6,h3,Be7,Be3,O-O,O-O,Be6,Nd5,Bxd5,Bxd5,Nxd5,exd5,Nd4,c3,Nxf3+,Qxf3,a5,c4,Bg5,Bxg5,Qxg5,Qd1,f5,Qa4,f4,f3,b6,Qc6,Qf6,Rf2,Rfb8,a4,Qd8,Qb5,Qh4,Qd7,Qd8,Qe6+,Kh8,Kh2,Qc7,g4,fxg3+,Kxg3,Rf8,Kh2,Rf6,Qg4,Qf7,Rg1,g5,Rg3,Rf8,h4,Rf4,Qe6,Rxh4+,Kg2,Qxe6,dxe6,Re8,Rg4,Rxg4+,fxg4,Rxe6,Rf8+,Kg7,Rb8,Rf6,Rxb6,Kg6,Rb5,h5,Rxa5,h4,Rb5,Rf4,Kh3,Rf3+,Kh2,Rxd3,b3,e4,Rb8,e3,a5,e2,Re8,Rxb3,Re6+,Kf7,Rxe2,Ra3,Rf2+,Ke6,Rf5,Rxa5,Rxg5,Ra4,Rg6+,Ke5,Rh6,Rxc4,Rxh4,Kf6', 'g5+,Kxg5,Rxc4', 'https://lichess.org/training/hABtS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HaC2n', 'Bullet', 'AntonioUkr', 1538, 'Nikola014', 1547, 'e4,e6,Qe2,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,Be7,Bg5,O-O,O-O-O,h6,Bxf6,Bxf6,g4,b6,h4,Bb7,Bg2,Nd7,g5,Be7,gxh6,g6,Rhg1,Bxh4,Nxh4,Qxh4,Bxb7,Rab8,Be4,c5,Bxg6,fxg6,Rxg6+,Kh7,Rdg1,cxd4,Rg7+,Kh8,Ne4,d3,Qxd3,Ne5,Qd4,Qf4+,Kb1,Rbd8,Qe3,Qxe3,fxe3,Nf3,Rf1', 'Nd2+,Nxd2,Rxf1+,Nxf1,Rd1#', 'https://lichess.org/training/HaC2n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hAcfi', 'Blitz', 'BlitzFitz', 1549, 'ramluk', 1527, 'Nf3,e6,d4,b5,g3,Bb7,Bg2,c6,O-O,c5,dxc5,Bxc5,e3,Nf6,a3,Ba6,b4,Bb6,Bb2,O-O,Nbd2,Bb7,c4,bxc4,Nxc4,Bxf3,Bxf3,d5,Nxb6,axb6,Re1,Nbd7,e4,dxe4,Bxe4,Ra7,Bxf6,Qxf6,Bc6,Ne5,Bg2,Rd7,Qe2,Nc6,Bxc6,Rd6,b5,Ra8,a4,Rad8,a5,Rd2,Qe5', 'Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/hAcfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HaD11', 'Rapid', 'me_zahra', 1759, 'seeseesee', 1822, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be6,Be3,Be7,Qd2,O-O,g4,d5,g5,d4,gxf6,Bxf6,Nd5,dxe3,Nxf6+,Qxf6,Qxe3,Qh4+,Kd2,Rd8+,Bd3,Nc6,Rad1,Rac8,Kc1,Nb4,Kb1,h6,c3,Nc6,Nc5,Qe7,Rhg1,Na5,Qxh6,g6,Nxe6,Qxe6,Qe3,Qh3,Rd2,Nc4,Bxc4,Rxd2,Qxd2,Rxc4,Qd8+,Kg7,Qd3,Rc8,Qe2,b5,a3,Rh8,Rh1,g5,Ka2,f6,Qd2,Kg6,Kb3,Qxf3,Qe1,Qg2,h4,gxh4', 'Rg1,Qxg1,Qxg1+', 'https://lichess.org/training/HaD11');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hAdCQ', 'Rapid', 'AntonioRos', 1699, 'josh_williams', 1702, 'e4,e5,Nf3,d6,Bc4,b6,O-O,Bb7,Nc3,Nc6,Bd5,Nge7,Ng5,Nxd5,exd5,Qxg5,dxc6,Bxc6,g3,O-O-O,d4,Qf5,d5,Bb7,Nb5,Kb8,c4,a6,Nc3,h5,h4,f6,b4,g5,hxg5,fxg5,f3,Qg6,Ne4,Be7,Kg2,h4,g4,c6,Kh3,cxd5,cxd5,Rhf8,Qd3,Qg8,Qe3,Ka7,a4,Bxd5,a5,Rb8,axb6+,Rxb6,Qd3,Bxe4,Qxe4,Qb3,Be3,d5,Bxb6+,Kxb6,Qg6+', 'Rf6,Qe8,Rxf3+,Rxf3,Qxf3+', 'https://lichess.org/training/hAdCQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HAdRy', 'Rapid', 'SilverHorns81', 1870, 'feb82', 1885, 'Nf3,c5,g3,Nc6,Bg2,Nf6,O-O,e6,d3,h6,e4,Be7,Nbd2,O-O,a4,a5,Nc4,d5,exd5,exd5,Nce5,Nxe5,Nxe5,Bd6,Re1,Be6,Bf4,Qc8,c4,d4,Ng6,Bxf4', 'Ne7+,Kh7,Nxc8', 'https://lichess.org/training/HAdRy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HadyS', 'Rapid', 'SupErich', 2040, 'Tsukuru', 2243, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,d4,d6,dxe5,dxe5,Nc3,Qxd1,Rxd1,O-O,Bd5,Bb7,Bxc6,Bxc6,Nxe5,Bxe4,Nd7,Nxd7', 'Rxd7,Bc5,Nxe4', 'https://lichess.org/training/HadyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HaEB4', 'Rapid', 'EvansMaster12', 2041, 'isbc', 2182, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,a3,a6,b4,cxd4,cxd4,Nge7,Bb2,Ng6,Nbd2,Be7,Bd3,Nf4,Bc2,Nxg2+,Kf1,Nf4,Rg1,g6,Nb3,b6,Bc1,Nh5,Ng5,Qc7,Qf3,Bxg5,Bxg5,Nxe5,dxe5,Qxc2,Rc1,Qb2,Kg2,Qxe5,Kh1,f6,Be3,Rb8,Bd4,Qe4,Qxe4,dxe4,Rc7,Ke7,Rd1,Rhd8,a4,e5,Be3,Ke6,a5,Ba4,Rdc1,Bxb3,R1c6+,Kf5,axb6,Rd1+,Kg2,Nf4+,Bxf4,exf4,Rc5+,Kg4', 'h3+,Kh4,Rxh7#', 'https://lichess.org/training/HaEB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hAeH9', 'Classical', 'Lvovich', 2194, 'Smiling_Friend', 2079, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,Bxc6,bxc6,e5,e6,d4,cxd4,Qxd4,Ne7,Bg5,Qb6,Qd3,Ba6,c4,Nd5,Qe4,O-O,Qh4,Qxb2,Nbd2,f6,Rab1,fxg5', 'Nxg5,h6,Rxb2', 'https://lichess.org/training/hAeH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hafg7', 'Blitz', 'FM Burgsvik', 2423, 'emateu', 2344, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,O-O,Be6,Kh1,O-O,f4,b5,f5,Bc4,g4,Bxe2,Qxe2,b4,Nd1,d5,Qg2,Nxe4,Rg1,Bg5,Nf2,Nxf2+,Qxf2,Nc6,Bxg5,Qxg5,h4,Qh6,g5,Qh5,Rad1,Rfd8,Rd3,a5,Rh3,a4,Nc5,Rac8,Nd3,e4', 'Nf4,Qf3+,Rxf3', 'https://lichess.org/training/Hafg7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('haGDi', 'Classical', 'rastapopoulossky', 1905, 'Sharbafff', 2084, 'Nf3,d5,d4,c6,c4,Bf5,cxd5,cxd5,Nc3,Nf6,Bf4,e6,Qb3,Qd7,e3,Nc6,Bb5,Be7,Ne5,Qc8,Qa4,O-O,Nxc6,bxc6,Bxc6,Rb8,Bxb8,Qxb8,Qb5,Qc7,Qb7,Qd6,Qxa7,Qxc6,Qxe7,Bd3,Rd1,Ba6,Rc1,Ne4,f3,Nxc3,Rxc3,Qb5,Rc2,Qd3,Rd2', 'Qb1+,Kf2,Qxh1', 'https://lichess.org/training/haGDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HAgPk', 'Rapid', 'BufftToonLink', 1758, 'lasker201910', 1798, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,c3,h6,a4,a6,Nbd2,O-O,h3,Bd7,Re1,Ne7,Nf1,Ng6,d4,exd4,cxd4,Bb4,Bd2,Bxd2,Qxd2,b5,Bb3,Re8,a5,Rxe4,Rxe4,Nxe4,Qd3,Ng5', 'Qxg6,Nxf3+,gxf3', 'https://lichess.org/training/HAgPk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('haGvQ', 'Rapid', 'javiernodras', 1985, 'NM self_service', 2335, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,f4,Nc6,Be2,Be7,Be3,O-O,Qd2,e5,Nxc6,bxc6,O-O,Qc7,f5,Rb8,Rab1,Rd8,Bc4,d5,exd5,Bb4,Bg5,cxd5,Bxf6,Qb6+,Kh1,Qxf6,Nxd5,Bxd2,Nxf6+,gxf6,Rbd1,Bf4,Rxd8+,Kg7,Bb3,Ra8,Rfd1,a5,R1d7,a4,Rxf7+,Kh6,Be6,Bxe6,Rxa8,Bxf7,Rxa4,Kg5,Ra7,Bd5,Rxh7,Bxa2,b3,Kxf5,Rh3,e4,Kg1,Bb1,Rc3,e3,Kf1,Ke4,Ke2,Be5,Rc4+,Bd4,h4,f5,h5,f4,h6,Ke5,Rxd4,Bxc2,Rb4,Kf6,Rb6+,Kg5,Kf3', 'Bd1+,Ke4,e2', 'https://lichess.org/training/haGvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hah7e', 'Rapid', 'antonwebern', 1905, 'KillerBurrito', 1807, 'd4,Nf6,Bg5,g6,Nf3,Bg7,c3,O-O,Nbd2,d6,e4,Ne8,Bd3,h6,Bh4,g5,Bg3,e6,e5,Nd7,O-O,dxe5,Nxe5', 'Nxe5,Bxe5,Bxe5,dxe5,Qxd3', 'https://lichess.org/training/Hah7e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HAidZ', 'Rapid', 'Kesgin', 1758, 'lodu', 1726, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bg4,h3,Bxf3,Qxf3,c6,Be2,Nd7,O-O,e6,a4,Be7,a5,O-O,a6,b6,Nc3,N7f6,Ne4,Nxe4,Qxe4,Nf6,Qxc6,Qxd4,c3,Qc5,Qxc5,Bxc5,Bf3,Rad8,Bg5,Be7,Rfd1,h6,Be3,Nd5,Bd4,f6,c4,Nc7,Be3,Rxd1+,Bxd1,Rd8,Bf3,e5,Kf1,Bb4,Ke2,Ba5,c5,Nxa6,c6,Nc7,Rxa5,bxa5,Bxa7,f5,Bb6,Rc8,Ke3,e4,Bd1,Kf8,Kd4,Ke7,Kc5,Ne6+,Kb5,Kd6,Bxa5,Nd4+,Kc4,Nxc6,Bc3,Ne5+,Kd4,Rc4+,Ke3,Nd3,Be2,f4+,Kd2,Rc5,Bxg7,h5', 'Bf8+,Kd5,Bxc5', 'https://lichess.org/training/HAidZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hAIqM', 'Blitz', 'Jobavahunter', 2002, 'FM aaryan_varshney', 2541, 'd4,Nf6,Nc3,d5,Bf4,a6,e3,c5,dxc5,Nc6,Bd3,e5,Bg3,Bxc5,Be2,O-O,Nf3,e4,Nd4,Nxd4,exd4,Bd6,O-O,Bxg3,hxg3,Be6,g4,h6,f4,exf3,Bxf3,Rc8,Re1,Qd7,g5,hxg5,Re5,g4,Be2,Rc7,Qe1,b5,a3,Rfc8,Bd3,Qd6,Qh4,Qb6,Ne2,Rxc2,Bxc2,Rxc2,b4', 'Rxe2,Rxe2,Qxd4+', 'https://lichess.org/training/hAIqM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HakIY', 'Blitz', 'johanmaster', 1583, 'SALENT', 1610, 'e4,c5,Nf3,d6,c3,Nf6,d3,e6,Bg5,Be7,Be2,h6,Bh4,O-O,O-O,Nbd7,c4,a6,Nbd2,b5,b3,Bb7,h3,Nb8,e5,dxe5,Nxe5,Nc6,f4,Bd6,Ne4,Bxe5,fxe5,Nxe5,Nxf6+,gxf6,Bxf6,Qd4+,Kh1,Qe3,Bxe5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/HakIY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HAkqb', 'Classical', 'hamery93', 1945, 'zazen0001', 1937, 'c4,c6,Nf3,d5,e3,Nf6,Nc3,e6,b3,Nbd7,Be2,Be7,O-O,Qc7,Bb2,O-O,Rc1,b6,d3,Bb7,h3,Rfd8,cxd5,exd5,Nb5,Qb8,Nbd4,c5,Nf5,Bf8,d4,g6,Ng3,Bg7,Bd3,Ne4,Nxe4', 'dxe4,Bxe4,Bxe4', 'https://lichess.org/training/HAkqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HaMiK', 'Rapid', 'harry1978', 1825, 'Trukmich', 1734, 'e4,c5,Bc4,d6,Nf3,Nf6,d3,Bg4,Bg5,Nbd7,Nc3,Ne5,Bxf6,exf6,Nxe5,Bxd1,Bxf7+,Ke7', 'Nd5#', 'https://lichess.org/training/HaMiK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HAoKI', 'Blitz', 'FM Fleetwood_Mac', 2336, 'aconeni', 2246, 'e4,c6,Nf3,d5,exd5,cxd5,Ne5,Nc6,Bb5,Bd7,Nxd7,Qxd7,d4,e6,Nd2,Bd6,Nf3,a6,Bd3,Nf6,O-O,b5,a4,b4,Qe2,a5,Bb5,O-O,Ne5,Bxe5,dxe5,Ne4,Be3,d4,Rfd1,Rfd8,f3,Qc7,Qc4,dxe3,Bxc6,Nd2,Qc5,Rac8,Qxe3,Qxc6,Rxd2,Rxd2,Qxd2,Qxc2,Rd1,h6,Qxc2,Rxc2,Rd8+,Kh7,Ra8,Rxb2,Rxa5,b3,Rb5,Kg6,h3,Kf5,Kh2,h5,h4,Ra2,Rxb3,Rxa4,Kg3,Kxe5,Rb5+,Kf6,Rxh5,g6,Rh8,Kg7,Re8,Kf6,Kh3,e5,g4,Ra3,Kg3,Ra4,Rg8,Ke6,h5,gxh5,gxh5,Ra1,Kh2,Ra2+,Kg3,Ra1,Kg2,Ra2+,Kg1,Ra1+,Kf2,Ra2+,Kg1,Ra1+,Kh2,Ra2+,Kh3,Ra1,Rg2,Rh1+,Kg4,Kf6,Rg3,Rh2,Rg1,Kg7,Kf5+,Kh6,Kxe5,Kxh5,Kf6,Rf2', 'Rh1+,Rh2,Rxh2#', 'https://lichess.org/training/HAoKI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hAOoa', 'Rapid', 'Atahan_Kala', 1756, 'linterna62', 1760, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,Nc3,Nf6,O-O,g6,d3,Bg7,Bg5,O-O,Re1,Bg4,h3,Bxf3,Qxf3,Re8,Bxf6,Qxf6,Qxf6,Bxf6,Ne2,Re7,f4,exf4,c3,Rb8,Rab1,d5,Nxf4,Bg5,g3,Rbe8,h4,Bf6,Kf2,dxe4,dxe4,Rxe4,Nd3,Kf8,Nc5,R4e7,Rxe7,Rxe7,Re1,Be5', 'Rxe5,Rxe5,Nd7+,Ke7,Nxe5', 'https://lichess.org/training/hAOoa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HAP9m', 'Rapid', 'TotalPeace', 1897, 'Hpryor', 1892, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qc3,Nf6,Bd3,d5,Bg5,d4,Qb3,Be6,Bb5+,Ke7,Qa4,a6,Be2,b5,Qa3,h6,Bh4,g5,Bg3,Nxe4,Be5,f6,f3,fxe5,fxe4,Kf7,O-O+,Kg6,Qg3,Bd6,Nd2,Rf8,Rxf8,Qxf8,Rf1,Qe7,h4,Rf8,Rxf8,Qxf8,hxg5,hxg5,Nf3,Qf4,Qe1,Bg4,Nh2,Bxe2,Qxe2,Qc1+,Kf2,Qxb2,Qg4,Qxc2+,Kg3,Qd3+,Nf3,Qe3,Qe6+,Kh5,Qxd6,Qf4+,Kf2,Qxe4,Qe7,Qe3+,Kg3,Qf4+,Kf2,d3', 'Qh7+,Kg4,Qh3#', 'https://lichess.org/training/HAP9m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HApPU', 'Rapid', 'nextmagnus', 2336, 'KholikovB', 2210, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c4,b4,Nc2,a5,Be2,O-O,O-O,Rb8,b3,g6,Rc1,Bg7,f4,exf4,Nxf4,Qe7,Bf3,Ne5,Ne3,Nxf3+,Qxf3,Bb7,Ned5,Bxd5,Nxd5,Qe5,Kh1,Rbe8,Rce1,f5,Qg3,Qxg3,hxg3,fxe4,Rxf8+,Kxf8,Kg1,Bd4+,Kf1,Kg7,Ke2,Rf8,Nf4,Kf6,Rf1,Ke7', 'Nd5+,Ke8,Nc7+,Kd7,Rxf8', 'https://lichess.org/training/HApPU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hApRT', 'Rapid', 'sebas0346', 1698, 'enkiduuu', 1687, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,Nf6,Bd3,d5,exd5,Qxd5,O-O,e4,Re1,Bxf5,Nc3,Qe5,g3,O-O-O,Bf4,Qd4,Nb5,Qc5,Be3,Qe5,Bf4,Qxb2,Rb1,Qxa2,Qc1,exd3,cxd3,Bxd3,Rb2,Qd5', 'Nxa7+,Kd7,Rxb7#', 'https://lichess.org/training/hApRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hAPRx', 'Blitz', 'nimetullaosmani', 2123, 'tomibeb', 1950, 'd4,c6,c3,d5,Bf4,g6,e3,Bg7,h4,Nf6,Nf3,Nh5,g3,Nxf4,gxf4,Bg4,Be2,h5,Qb3,Qb6,Qc2,Nd7,b4,O-O,Nbd2,a5,a3,axb4,cxb4,e6,Ng5,Bxe2,Kxe2,Nf6,Kf3,Ng4,Nb3,Qc7,Rhg1,b6,Rxg4,hxg4+,Kxg4,c5,bxc5,bxc5,Nxc5,Rfc8,h5,gxh5+,Kxh5,Qe7,Ra2,Qf6', 'Qh7+,Kf8,Nd7+,Ke7,Nxf6', 'https://lichess.org/training/hAPRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hAQ9j', 'Blitz', 'schmietzzz', 1732, 'danigrig2011', 1687, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,Bc5,O-O,d6,h3,O-O,Be3,Bb6,Nbd2,Be6,Bb3,Bxb3,axb3,Bxe3,fxe3,d5,exd5,Nxd5,Qe2,Re8,Ne4,f5,Nc5,e4,Nd4,exd3,Qxd3,Rxe3,Qxf5,Qd6,Nce6,Nxd4', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/hAQ9j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('haRGG', 'Blitz', 'wojtas89', 1733, 'LukaszNysa', 2073, 'd4,e6,Nf3,b6,Bf4,Bb7,e3,h6,c4,g5,Bg3,Bg7,h3,Nc6,Nc3,Qe7,Qc2,O-O-O,d5,Nb8,O-O-O,d6,e4,Nf6,e5,dxe5,Nxe5,exd5,cxd5,Nbd7,Nc6,Bxc6,dxc6,Nc5,b4,Rxd1+,Qxd1,Nce4,Nxe4,Nxe4,Qd3,Qxb4', 'Qd7+,Kb8,Qxc7+,Ka8,Qb7#', 'https://lichess.org/training/haRGG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HAS8F', 'Blitz', 'hendasa', 1744, 'sayh00n', 1901, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Bd3,Bg7,c3,Nf6,O-O,d6,h3,Rb8,Kh1,O-O,f4,h5,Nd2,h4,Nf3,Nh5,Kh2,e6,f5,exf5,exf5,gxf5,Ng5,Be5+,Kg1,Qb6+,Rf2,Bg3,Qxh5', 'Qxf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/HAS8F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hASDM', 'Blitz', 'paulpanther62', 1733, 'musilinho10', 1549, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Nc3,Nf6,Qb3,Bxc3+,Bxc3,Qe7,Ne2,O-O,O-O,Qxe4,Ng3,Qe7,Rfe1,Qd8,Bxf6,Qxf6,Ne4,Qg6,Ng3,Nc6,Re3,d6,Rae1,Na5,Qa4,Nxc4,Qxc4,c5,Re8,Be6,Rxf8+,Rxf8,Qb5,Rb8,Qa5,a6,Qc7,Rc8', 'Qxc8+,Bxc8,Re8#', 'https://lichess.org/training/hASDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hAuP8', 'Rapid', 'atravancando', 2090, 'minos65', 2175, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Nc3,O-O,O-O,Re8,Bg5,h6,Bh4,g5,Bg3,Nxe4,Qh5,Nxc3,Qxf7+,Kh8,Bd3,Ne4,Bxc7,Qe7,Qg6,Qf8', 'Bxe4,Rxe4,Qxe4', 'https://lichess.org/training/hAuP8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HaVeh', 'Rapid', 'IRANN1997', 1718, 'MattyPAWn', 1905, 'd4,d5,Nf3,Nf6,c4,c6,e3,Bf5,Nc3,e6,Nh4,Bg6,Nxg6,hxg6,b3,Bd6,h3,Nbd7,cxd5,exd5,Bd3,Qe7,O-O,O-O-O,a4,Rh7,a5,Rdh8,Qf3,Rh5,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Re1,Qd7,Be3,g5', 'Bf5,g4,Bxd7+', 'https://lichess.org/training/HaVeh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hAXja', 'Rapid', 'Bijomarumogami', 1853, 'PaulMIPT', 1858, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,f3,Nc6,Be3,a6,Bc4,O-O,O-O,b5,Bb3,Qb6,Kh1,Bc5,Nxc6,Qxc6,Bxc5,Qxc5,a4,b4,Ne2,Bb7,Ng3,d5,exd5,Nxd5,Re1,Rfd8,Ne4,Qc7,Qd2,Nc3,Qg5,Nxe4,fxe4,Rd4,Re3,Bxe4,Rf1,Bxc2,Bxc2,Qxc2,Qe7,Qg6,Rg3,Qh5,Rg5,Qd1', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/hAXja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hAY4h', 'Classical', 'bou7a1994', 1873, 'Rookeer', 1801, 'e4,c5,Nc3,g6,d3,Bg7,Bd2,Nc6,a3,Nf6,f4,O-O,Nf3,d5,e5,Nd7,Nxd5,Nb6,c4,f6,Nxb6,Qxb6,Bc3,Bg4,Be2,Bxf3,Bxf3,fxe5,O-O,Nd4,Bxd4,exd4,Qe2,Qc7,g3,Rae8,Rae1,e5,fxe5,Rxe5', 'Bd5+,Kh8,Rxf8+,Bxf8,Qxe5+,Qxe5,Rxe5', 'https://lichess.org/training/hAY4h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hb04v', 'Rapid', 'pepejb', 1623, 'meepodota', 1637, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,Ne5,Ne7,Nxg6,Nxg6,Bc4,Bd6,O-O,O-O,Ne4,Bc7,c3,Qh4,Ng3,Ne7,Qh5,Qxh5,Nxh5,Nf5,Bf4,Bxf4,Nxf4,Nd7,Rad1,a6,Bb3,b5,Nxe6,Rfe8,Ng5,Nh6,d5,c5,a4,c4,Ba2,f6,Ne6,Rec8,a5,Ne5,d6,Ra7,d7,Nxd7,h3,Nc5,Nxc5,Rxc5,Rd8+,Kf7,Bb1,Nf5,g4,Ne7,f4,Rd5,Rxd5,Nxd5,Be4,Rd7,Rd1,Ke6,f5+,Ke5,Bf3,Rd6,Bxd5,Rxd5,Rxd5+', 'Kxd5,Kf2,Ke4', 'https://lichess.org/training/Hb04v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HB1lS', 'Rapid', 'mohand1111', 1821, 'PausCraft', 1822, 'd4,g6,Bf4,Bg7,e3,Nf6,c4,O-O,Nc3,d6,Nf3,Bg4,h3,Bxf3,Qxf3,c6,Be2,Nbd7,O-O,e5,dxe5,Nxe5,Qg3,b5,cxb5,cxb5,Nxb5,Qb6,b3,Nh5,Qg5,Nxf4,exf4,Nd7,Rad1,Bf6,Qg4,Rfd8,Rxd6,h5,Qf3,Qb8,Rfd1,Nb6,Rxf6,Rxd1+,Bxd1,Qd8,Rd6,Qe8,Nc7,Qe1+,Kh2,Rf8,Nb5,Nc8,Rc6,Ne7,Ra6,Nf5,Rxa7,Nh4,Qe2,Qb4,Qc4,Qd2,Be2,Qe1,f5,Qxf2,Qe4,gxf5,Qd5,Qxe2,Nd6,Qe6,Qxe6,fxe6,Kg3,Ng6,Nc4,f4+,Kf3,e5,Rd7,Re8,Ra7,e4+,Ke2,Nh4,Kf2', 'e3+,Ke2,Nxg2', 'https://lichess.org/training/HB1lS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HB43T', 'Rapid', 'cem955', 1868, 'LelouchLamperougeCC', 1676, 'e4,c5,Nf3,Nc6,c4,g6,Nc3,Bg7,Rb1,e6,Be2,Nge7,O-O,O-O,d3,f5,Qc2,fxe4,dxe4,Nd4,Nxd4,cxd4,Nb5,a6,Nd6,Qb6,Nxc8,Raxc8,b4,d5,exd5,exd5,c5,Qc7,Bg5,Nf5,Bf3,Qd7,Qd2,h6,Bf4,Nh4,Bd1,g5,Bg3,Qf5,Bb3,d3,Bd6,Rf7,Rbe1,Nxg2,Kxg2,Qf3+,Kg1,Qg4+,Bg3,Rd8,Qxd3,Rf5,Re7,Be5,Rxb7,Rf3,Qh7+,Kf8,Qxh6+,Ke8,Qg6+,Kf8,Qh6+,Ke8,h3,Rxg3+,fxg3', 'Qxg3+,Kh1,Qh2#', 'https://lichess.org/training/HB43T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hb4Be', 'Rapid', 'nakshatra-123', 1820, 'gnassro', 1801, 'd4,Nf6,Bg5,e6,e4,h6,Bh4,c6,e5,Qa5+,Nc3,Nd5,Qd2,Bb4,Nge2,Bxc3,Nxc3,Nxc3,bxc3,O-O,Bd3,c5,dxc5,Qxc5,O-O,Nc6,Rfe1,Nxe5,Rab1,Nxd3,Qxd3,f6,Rb5,Qe7,Bg3,e5,f4,b6', 'Qd5+,Qf7,Qxa8', 'https://lichess.org/training/hb4Be');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hB78R', 'Blitz', 'imal365', 1741, 'nidzo94', 1726, 'e4,e5,f4,d6,Bc4,Nf6,d3,Nc6,Nf3,a6,fxe5,dxe5,O-O,Be7,Bxf7+,Kxf7,Ng5+,Kg8,Nc3,Bg4,Qe1,Bh5,Nd5,Nxd5,exd5,Bxg5,dxc6,bxc6,Qxe5,Bxc1', 'Qe6+,Bf7,Qxf7#', 'https://lichess.org/training/hB78R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hbABr', 'Rapid', 'Capax', 1756, 'dakjs', 1726, 'c4,e5,Nc3,Nf6,Nf3,d5,Nxe5,dxc4,Nxc4,Bf5,d3,Nc6,e4,Bg4,Be2,Bxe2,Qxe2,Bb4,Bd2,Nd4,Qd1,O-O,a3,Ba5,Ne2,Bxd2+,Qxd2,Nxe2,Qxe2,Qd7,O-O,Rad8,Rfd1,c5,b4,cxb4,axb4,Qg4,Qxg4,Nxg4,h3,Nf6,Rxa7,b5,Ne3,Rd4,Nc2,Rdd8,Rb7,Nh5,Rxb5,Nf4,d4', 'Ne2+,Kf1,Nc3,Rc5,Nxd1', 'https://lichess.org/training/hbABr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hBauv', 'Blitz', 'CM KingRAZOR', 2275, 'Zugzo', 2314, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,a3,Qc7,Be3,Bb7,Bd3,Nf6,O-O,Bc5,Ndxb5,axb5,Nxb5,Qb6,Bf4,O-O,b4,Be7,Bc7,Qc6,c4,Ba6,Be5,d6,Bg3,Nxe4,Nd4,Qb7,b5,Nc5,Bc2,Bf6,bxa6,Nbxa6,Bxd6,Rfd8,Bxc5,Nxc5,Qh5,Bxd4,Bxh7+,Kf8,Rad1,Bf6,Bc2,Nd7,f4,Rxa3,f5,e5,c5,Ra2,Rf2,Rc8,Bb3,Rxf2', 'Qxf7#', 'https://lichess.org/training/hBauv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HbBKC', 'Rapid', 'Shirayukihime', 2042, 'LOL-kun', 2389, 'e4,c5,g3,Nc6,Bg2,e6,Ne2,d6,O-O,Nf6,d4,cxd4,Nxd4,Nxd4,Qxd4,Be7,c4,O-O,Nc3,Bd7,b3,e5,Qd2,a6,Ba3,Qa5,Bxd6', 'Bxd6,Qxd6,Qxc3', 'https://lichess.org/training/HbBKC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HbC4F', 'Rapid', 'reteiplion', 1987, 'camus133', 2044, 'e4,e5,Nc3,Nc6,Nf3,Be7,d4,exd4,Nxd4,Nf6,Bc4,O-O,O-O,Nxd4,Qxd4,d6,Be3,Ng4,Nd5,Ne5,Bb3,Be6,Nxe7+,Qxe7,f4,Nc6,Qd2,Bxb3,axb3,Qxe4,Rae1,Qf5,c4,Rfe8,b4,a6,b3,h6,Rf3,Re7,Qc3,Rae8,Bf2,Rxe1+,Bxe1,Qe4,Bd2,Nd4,Re3,Qb1+,Kf2,Rxe3,Qxe3,Nf5,Qe8+,Kh7,Qxf7,Qe4,Qh5,Qd4+,Ke1,Qg1+,Ke2,Qxg2+,Kd3,Qf1+,Kc3,Qa1+,Kd3,Qf6,Qf3,Qd4+,Ke2,c6,Bc3,Qb6', 'Qe4,Qg1,Qxf5+', 'https://lichess.org/training/HbC4F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hBcHE', 'Blitz', 'quentinf', 2461, 'CM Escudeyro', 2286, 'c4,e6,g3,d5,Bg2,c5,cxd5,exd5,d4,Nc6,Nf3,Nf6,O-O,Be7,dxc5,Bxc5,b3,O-O,Bb2,Ne4,Nc3,Be6,Rc1,Bb6,Na4,Bc7,Nd4,Nxd4,Bxd4,Bd6,Nc5,Nxc5,Bxc5,Rc8,Bxd6,Qxd6,Qd4,Qa3,Qd2,h6,e3,a6,Rfd1,Rfd8,Rxc8,Rxc8,Bxd5,Bxd5,Qxd5,Qxa2,Qxb7,Rc2,Rd8+,Kh7,Qe4+,g6,Qe5,g5,Rh8+,Kg6,Rg8+,Kh5,h4,Rxf2', 'Rxg5+,hxg5,Qxg5#', 'https://lichess.org/training/hBcHE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hbdgd', 'Blitz', 'IM www68', 2527, 'IM Matanzas67', 2512, 'e4,g6,d4,Bg7,Nc3,d6,Nge2,Nf6,h3,c5,g4,cxd4,Nxd4,Nc6,Be3,O-O,Bg2,Bd7,O-O,Nxd4,Bxd4,Bc6,Re1,Rc8,Nd5,Nd7,c3,a6,a4,Nc5,Bxg7,Kxg7,b4,Nd7,a5,Kg8,Qd4,e6,Nb6,Nxb6,axb6,e5,Qe3,Qe7,c4,Bd7,Rec1,Be6,c5,dxc5,bxc5,Rc6,Rc3,Rfc8,Rac1,Kg7,g5,f6,h4,fxg5,hxg5,Rf8,Qg3,Rf4,Rf3,Rxc5,Rfc3,Rg4,Rxc5,Rxg3,Rc7,Rxg2+,Kxg2,Bd7,Rd1,Qxg5+,Kf1,Kf6,Rdxd7,Qg4,Rf7+,Kg5,f3,Qh3+,Ke2,Qh2+,Kd3,a5,Rxb7,a4,Ra7,Qb2,b7,Qd4+,Kc2,Qxa7,Kb2,h5,Ka3,h4,f4+,exf4,e5,h3,e6,Qc5+,Kxa4,h2,b8=Q,h1=Q', 'Qxf4+,Kh5,Rh7#', 'https://lichess.org/training/Hbdgd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hbEky', 'Rapid', 'faraj444', 1837, 'BlondBomber', 1852, 'd4,Nf6,Bg5,g6,e3,Bg7,Bxf6,Bxf6,Nf3,d5,c4,e6,Nc3,O-O,Be2,dxc4,Bxc4,c5,Ne2,cxd4,Nexd4,Bxd4,Nxd4,Qc7,b3,Bd7,O-O,Nc6,Rc1,Nxd4,exd4,Bc6,d5,exd5,Bxd5,Rad8,Qf3,Bxd5,Qxd5', 'Qxc1,Qxd8,Qxf1+,Kxf1,Rxd8', 'https://lichess.org/training/hbEky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HBfNa', 'Rapid', 'khalil1012', 1812, 'kentt', 1770, 'g3,d5,Bg2,Nf6,b3,Bf5,Bb2,c6,e3,e6,Nf3,Nbd7,Nc3,Bd6,Qe2,h6,Nh4,Bh7,f4,Qc7,Nf3,Bxc2', 'd3,Bxd3,Qxd3', 'https://lichess.org/training/HBfNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HbFYB', 'Rapid', 'ajaxnijmegen', 1868, 'alltheway', 1784, 'e3,Nf6,d4,e6,Bc4,b6,Nc3,Bb7,Nf3,Be7,O-O,O-O,Bd2,d5,Bd3,Nbd7,Ne2,Rc8,c3,c5,Bc2,cxd4,Nexd4,Qc7,h3,Ne4,Be1,a5,Qd3,Qd6,Nd2,Ndf6,Nxe4,Nxe4,f3,Nf6,Bh4,g6,Bxf6,Bxf6,Rac1,Ra8,Rf2,Ba6,Qd2,b5,a3,Rfc8,Bd3,Bd8,Nxb5,Bxb5,Bxb5,Bc7,f4,Rab8,a4,Bb6,Re2,Qc5,Kh1,Rd8,Qd4,Qxb5,axb5,Bxd4,exd4,Rxb5,Rcc2,Ra8,Kh2,a4,g4,a3,bxa3,Rxa3,Kg3,Rbb3,Re3,Kf8,f5,gxf5,gxf5,exf5,Kf4,Rb6,Kxf5,Rg6,Ke5,Re6+,Kf4,Ke7,Rxe6+,fxe6,Kg5,Kf7,h4,Ra1,Rf2+,Kg7,Rf3,Rg1+,Kf4,Kg6,Rg3+', 'Rxg3,Kxg3,Kf5', 'https://lichess.org/training/HbFYB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hBHmK', 'Bullet', 'chucran', 2757, 'GM howitzer14', 2737, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Nc6,Nf3,Nf6,Bf4,Bg4,Ne5,Rc8,Nxg4,Nxg4,e4,Nf6,e5,Ne4,Bd3,Nxc3,bxc3,e6,O-O,Be7,Qh5,g6,Qh6,Bf8,Qh3,Be7,Bh6,Bf8,Be3,h5,f4,Be7,Kh1,Qd7,f5,exf5,Rxf5,Na5,Raf1,Rxc3,Bb5,Qxb5,Rxf7,Qd7,e6,Qc6,Qf3,Qxe6,Qf4,Rxe3,Qb8+,Kd7,Qxh8,Qxf7,Rg1,Qf2,Qg8,Re1,Qxd5+,Ke8,Qg8+,Bf8,Qxg6+,Kd8,Qg5+,Be7', 'Qxa5+,b6,Qxe1', 'https://lichess.org/training/hBHmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HbIfE', 'Rapid', 'rda_mhmd', 1736, 'Dr-AlexanderAlekhine', 1675, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nf6,d4,Bd6,Bg5,c6,Qe2+,Be6,Ne5,O-O,O-O-O,Nbd7,f4,h6,Bh4,Re8,h3,Qa5,g4,Nh7,f5,Nxe5,dxe5,Bd7,Bg3,Ba3,Rd3,Bb4,a3,Bxc3,Rxc3,Ng5,Bg2,d4,Rc4,Qb5,Qd3,c5,Qb3,Qxb3,cxb3,Rac8,Bxb7,Rc7,Bg2,Bb5,Rc2,Bd3,Rd2,Be4,e6,Rb7,exf7+,Kxf7,Bxe4,Nxe4,Rd3,Nf6,Kc2,Re2+,Kc1,Ne4,Re1', 'Nxg3,Rxe2,Nxe2+', 'https://lichess.org/training/HbIfE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hBiGW', 'Blitz', 'erna228', 1853, 'wolffischer', 1805, 'e4,c6,d4,d5,exd5,cxd5,c4,dxc4,Bxc4,Nf6,Nf3,Bg4,Qb3,e6,Qxb7,Nbd7,Bg5,Rc8,Bb5,Rc1+,Kd2,Rxh1,Ne5,Rd1+,Kc2,Rxb1,Bxf6,Bf5+,Kd2,gxf6', 'Bxd7+,Qxd7,Qxd7#', 'https://lichess.org/training/hBiGW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hbiOY', 'Rapid', 'r-mohamadi55', 1883, 'beppe65', 1967, 'd4,d5,c4,e6,Nc3,Be7,Bf4,Nf6,e3,O-O,h3,c5,dxc5,Bxc5,cxd5,exd5,Nf3,Nc6,a3,Be6,Be2,a6,O-O,d4,exd4,Nxd4,Be5,Bb3,Qd2', 'Nxf3+,Bxf3,Qxd2', 'https://lichess.org/training/hbiOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hBiUG', 'Blitz', 'elops', 1675, 'avakar', 1648, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,b4,Bxb4,c3,Be7,d4,exd4,e5,Ne4,cxd4,d5,exd6,Nxd6,Bb3,O-O,Re1,Nf5,Bb2,Bb4,Re4,Nd6,Rf4,b6,a3,Ba5,d5,Ne7,Ne5,Bb7,Nc3,Bxc3,Bxc3,f6,Nc6,Bxc6,dxc6+,Kh8,Qg4,Nxc6,Bd5,Ne5,Qh3,Rc8,Rh4,h6,Re1,c6,Be6,Rc7,Re3,Re7,Rxh6+,gxh6,Qxh6+,Rh7,Qf4,Qe7,Bc4,Nexc4,Rxe7,Rxe7,Qh6+,Kg8,Qg6+,Kh8,Qh5+,Kg7,Qg4+,Kf7,Qh5+,Ke6,Qe2+,Kd7,Qg4+,Ke8,Qg6+,Rff7,Qg8+,Kd7,Qg4+,Kc7,h4,Nb5,Bb4,Re1+,Bxe1,Ne5,Qb4,a5,Qf4,Rd7,Kh2,Rd1,Qe3,Nd6,Bd2,Ra1,h5,Ndc4,Qh6,Nxd2,Qxd2,Rxa3,h6', 'Ng4+,Kg1,Ra1+,Qe1,Rxe1#', 'https://lichess.org/training/hBiUG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hBjwJ', 'Bullet', 'AxelMar', 1679, 'Carpuz', 1740, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Bb4,Bd2,Bxc3,Bxc3,O-O,Bxf6,gxf6,Qg4+,Kh8,Rae1,Rg8,Qh5,Rg6,Re3,Rag8,g3,f5,f4,Qc6,Qe2,d4,Rd3,Qc5,Rf2,f6,Kf1,e5,fxe5,fxe5,Rxf5,Qb5,b3,Re8,Rdf3,Qxe2+,Kxe2,e4,R3f4,Rh6,h4,Rg6,g4,Kg7,h5,Rc6,Kd1,Rc3,g5,Rh3,Rf7+,Kg8,h6,Rh1+,Kd2,e3+,Ke2,Rh2+,Kd3,e2,Rg7+,Kh8,Rff7,Rh3+,Kxd4,Rh4+,Kc5,e1=Q,Rxh7+,Kg8,Rhg7+,Kh8', 'Rh7+,Kg8,Rfg7+,Kf8,Rh8#', 'https://lichess.org/training/hBjwJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HBKSR', 'Blitz', 'steki', 1542, 'Manu1w5', 1539, 'd4,d5,Bf4,Bf5,e3,Nc6,Bd3,g6,Bxf5,gxf5,Nc3,e6,Nf3,Bd6,Ne5,f6', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/HBKSR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HBPDu', 'Rapid', 'Nikolas33', 2025, 'ViktorKul', 1943, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e3,d6,Bd3,Nbd7,O-O,Re8,b4,e5,dxe5,dxe5,e4,c6,c5,Qe7,Be3,b6,Qc2,Ng4,cxb6,Nxe3,fxe3,axb6,a3,Ba6,Rfd1,Bxd3,Rxd3,f5,exf5,gxf5,e4,Qf7,Rad1,Rad8,Na4', 'fxe4,Rd6,exf3', 'https://lichess.org/training/HBPDu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HbqFc', 'Rapid', 'BOSSY', 1663, 'profeblanco', 1601, 'd4,f5,e4,fxe4,Nc3,Nf6,Bg5,d5,Be2,c6,Qd2,Nbd7,Nh3,e6,Nf4,Qe7,Bh5+,g6,Bxg6+,hxg6,Nxg6,Qg7,Nxh8,Qxh8,h4,b5,O-O-O,Bb7,Qf4,Nh5,Qc7,Rb8,g4,Nhf6,f3,exf3,Rde1,Ke7,Re3,Bh6,Rhe1,Bxg5,hxg5,Ne4,Nxe4,dxe4,Rxe4,Qg8,Rxe6+,Qxe6,Rxe6+,Kxe6,g6', 'f2,Qf4,Rf8', 'https://lichess.org/training/HbqFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HbQlr', 'Blitz', 'dryanchristoph', 1636, 'dsv19741227', 1652, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Nb3,d6,Bf4,Nf6,Qd2,O-O,O-O-O,a5,a4,Bd7,Kb1,Rc8,Nd4,Nb4,Ndb5,Bxb5,Bxb5,Rxc3,bxc3,Nxe4,Qe3,Nxc3+,Kc1,Nca2+,Kd2,Qc7,Ke2,Nc3+,Kf3,Nxd1,Rxd1,Qxc2,Rd2,Qf5,g4,Qc8,Kg3,Qc3,Bd3,Nxd3,Rxd3,Qb4,Qxe7,Be5,Bxe5,dxe5,Qxe5,Qxa4,Rd4,Qc6,f3,b6,h4,a4,Rd6,Qc5,Qf4,a3,Qd2,Rb8,Rd8+,Rxd8,Qxd8+,Qf8,Qxb6,Qa8,Qb1,Qa7,Qa1,a2,Kh3,Qa3,Kg3,Kf8,Kh3,Qxf3+,Kh2,Qe2+,Kh3,Qd3+,Kg2,Qc2+,Kf3,Qb3+,Kf4,Kg8,Kg5,Qb1,Qf6,a1=Q,Qd8+,Kg7,h5,Qb5+,Kh4,Qaa5', 'h6+,Kxh6,Qf8#', 'https://lichess.org/training/HbQlr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hBRzO', 'Rapid', 'Zazouza23', 1741, 'mariomm', 1696, 'e4,d5,exd5,c6,Nc3,cxd5,d4,Nc6,Nf3,Bg4,Bb5,Bxf3,Qxf3,e6,Be3,Nf6,a3,Ne4,Nxe4,dxe4,Qxe4', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/hBRzO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hbsg8', 'Blitz', 'Anshu1234567', 1979, 'Andrera72', 2011, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bg4,Bc4,e6,h3,Bxf3,Qxf3,Nd7,d3,Ngf6,Nxf6+,Nxf6,O-O,Be7,Bf4,O-O,Rfe1,Bd6,Bg5,Be7,Rad1,Nd5,Bc1,Bf6,c3,a5,a4,Rb8,Re4,b5,axb5,cxb5,Ba2,b4,Rg4,bxc3,Bxd5,exd5,bxc3,Bxc3,Bg5,Qc7,d4,Qc6,Bf6,g6,Rh4,Rfe8,Rxh7,Kxh7,Qf4,Re6', 'Qh4+,Kg8,Qh8#', 'https://lichess.org/training/Hbsg8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hbt68', 'Classical', 'bilger35', 1772, 'Georges31200', 1603, 'e4,c5,d4,cxd4,Bc4,e6,Qxd4,Nc6,Qc3,d5,exd5,exd5,Bb5,Bd7,Nf3', 'Bb4,O-O,Bxc3', 'https://lichess.org/training/hbt68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hbtSX', 'Classical', 'VladAtheris', 1603, 'gladiantuns', 1668, 'e4,a6,d4,d6,Qf3,Nc6,Be3,e5,dxe5,Nxe5,Qf4,g5,Qg3,Nf6,Qxg5,Rg8,Qh4,Rg4,Qh3,Rxe4,Qg3,Nc4,Bxc4,Rxc4,Nc3,Ne4,Nxe4,Rxe4,O-O-O,Rg4,Qf3,Be6,h3,Rc4,Ne2,Qd7,Nc3,c6,Rhe1,O-O-O,Ba7,Bd5,Nxd5,cxd5,Qxd5,Bh6+,Kb1,Qc7,c3,b5,Qa8+,Kd7,Rxd6+,Qxd6,Qb7+,Rc7,Qf3,Rxa7,Qxf7+,Kc6,Qxa7', 'Qd3+,Ka1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/hbtSX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HBtvY', 'Blitz', 'Bello_Napoleon', 2096, 'NgalorNgidul', 2064, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Nc3,exd4,Nxd4,Be7,Re1,O-O,Bf4,Nxd4,Qxd4,Bf6,Qd3,Bxc3,bxc3,Nxb5,Qxb5,c6,Qc5,d5,Rad1,Qb6', 'Qxf8+,Kxf8,Bd6+,Kg8,Re8#', 'https://lichess.org/training/HBtvY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HBv0A', 'Rapid', 'Rashidimasoud', 2005, 'maienmi', 1992, 'd4,d5,c4,Nf6,Nc3,e6,cxd5,exd5,Nf3,c5,Bg5,Be6,e3,Nc6,Ne5,Bd6,Bb5,Rc8,Qa4,Qc7,Qxa7,O-O,Nxc6,Ra8,dxc5,Rxa7,cxd6,Qb6,Nxa7,Qxa7,Bxf6,gxf6,O-O,Kh8,d7,Rg8,e4,Bh3,Rfd1,Rxg2+,Kh1,Qxf2,d8=Q+,Kg7,Rg1,Qf3,Raf1', 'Rxg1+,Kxg1,Qg2#', 'https://lichess.org/training/HBv0A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HBWhr', 'Rapid', 'BasharMansour', 1952, 'Flashy_pawn', 2004, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nc6,Be2,Bd6,Be3,Qb6,b3,Qa5,O-O,Nf6,Bd3,O-O,h3,h6,c4,cxd4,Bd2,Qc5,a3,dxc4,Bxc4,Ne5,Nxe5,Qxe5,g3,d3,Bc3,Qg5,Qxd3,Bc5,b4,Bf5,Qf3,Bb6,g4,Be4,Bxf6,gxf6,Qg3,Kh7,h4,Qg7,Nd2,Bc6,b5,Bd7,Be2,Bd4,Rad1,Be5', 'Qd3+,f5,Qxd7', 'https://lichess.org/training/HBWhr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HBwPe', 'Rapid', 'Vitorgan1', 1806, 'Aleysk', 1974, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bd3,Rc8,dxc5,Bxc5,O-O,Nge7,a3,Ng6,Re1,Qc7,Qe2,O-O,b4,Be7,b5,Na5,a4,Nb3,Ra2,Nxc1,Rxc1,Nh4,Nxh4,Bxh4,g3,Be7,c4,dxc4,Rxc4,Qa5,Rac2,Rxc4,Rxc4,Rc8,Qe4,Rxc4', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/HBwPe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hbx8z', 'Rapid', 'Lazy_Leaf', 1856, 'TS111', 1865, 'e4,e5,Nf3,d6,Bc4,c6,d4,Nd7,d5,cxd5,exd5,f5,Ng5,Ngf6,Ne6,Qe7,O-O,Nb6,Bb5+,Kf7,Nc3,Bxe6,dxe6+,Qxe6,Na4,Nxa4,Bxa4,d5,Bg5,h6,Bxf6,Kxf6,Bb3,Rd8,Re1,Bc5,Qf3,e4', 'Qc3+,d4,Qxc5', 'https://lichess.org/training/hbx8z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hBxAs', 'Classical', 'TUTURAY', 1893, 'Salehjar', 1791, 'e4,e5,Nf3,Nc6,d4,Nf6,d5,Nb4,a3,Nbxd5,exd5,Qe7,Bd3,e4,O-O,Qc5,Re1,Qxd5,Nc3,Qc6,Nxe4,Be7,Bg5,O-O,Nd4,Qd5,Bxf6,Bxf6,Nxf6+,gxf6,Nf5,Kh8,Ne7,Qg5,Re3,d6,Rg3,Qe5,Re3,Qg5,h4,Qxh4,Re4,Qg5,f4,Qg3,f5,b6,Rg4,Qe3+,Kf1,Qxe7,Re4,Qd7,Rh4,Rg8,Qh5,Rg7,Qh6,Bb7,Qxf6,Rg8,Kf2,Qc6', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/hBxAs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HBXkT', 'Rapid', 'NDSch', 1665, 'DimaChess10', 1649, 'e4,c5,Nf3,Nc6,c3,e5,d4,cxd4,cxd4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,O-O,O-O,Bxc3,bxc3,Re8,f3,Qa5,c4,Qc5+,Kh1,Ba6,Qc2,d5,cxd5', 'Qxc2,Bxc2,Bxf1', 'https://lichess.org/training/HBXkT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hc0Jf', 'Rapid', 'Lisandro_88', 1884, 'Mi6ura', 1934, 'e4,c5,Nf3,e6,c3,a6,h3,Nc6,Be2,b5,a4,bxa4,Qxa4,Bb7,O-O,h5,d4,cxd4,cxd4,Qc7,Nc3,Be7,e5,g6,Bg5,Bxg5,Nxg5,f6,exf6,Nxf6,d5,Nxd5,Nxd5,exd5,Rfe1,O-O,Bd3,Rf6,Qc2,Qf4,Nf3,g5,Ra4,d4,Bc4+,Kh8,Re4,Qf5,Bd3,Qd5,Bc4,Qf5,Bd3,Qd5,Bc4,Qd6,Nxg5,Nb4,Re8+,Rxe8', 'Qh7#', 'https://lichess.org/training/Hc0Jf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hc0xc', 'Rapid', 'Ruthwin', 2117, 'kenyut', 2035, 'd4,d5,Nf3,c6,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nc3,Bg4,Be3,e6,Be2,Bb4,O-O,O-O,Qb3,Bxc3,bxc3,N8d7,c4,Rc8,c5,Na8,Qxb7,Rc7,Qa6,Bxf3,Bxf3,e5,Rfd1,exd4,Bf4,Rc8,Bd6,Re8,Rxd4,Nf6,e5,Nc7,Qa4,Nfd5,Qxc6,Ne7,Qa4,Nf5,Rdd1,Ne6,Bc6,Rxc6,Qxc6,Ned4,Qd5,Ne2+,Kf1,Nf4,Qe4,Qg5,g3,Ne6,h4,Qg6,c6', 'Nxg3+,fxg3,Qxe4', 'https://lichess.org/training/Hc0xc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hc2Ua', 'Blitz', 'serdar75han', 2391, 'IM Machinegunusa', 2558, 'd4,d5,Nf3,c5,Bf4,Nc6,e3,cxd4,exd4,Bg4,c3,e6,Nbd2,Bd6,Bxd6,Qxd6,Be2,Nge7,O-O,O-O,Re1,Rab8,a4,a6,Ne5,Bxe2,Qxe2,b5,axb5,axb5,Ra6,Qc7,Ndf3,b4,h3,bxc3,bxc3,Nxe5,Qxe5,Qxc3,Rea1,Ng6,Qg3,Rb2,h4,h6,h5,Ne7,Ra8,Rxa8,Rxa8+,Kh7', 'Ng5+,hxg5,Qxc3,Rb1+,Kh2', 'https://lichess.org/training/hc2Ua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HC2WW', 'Rapid', 'Alfrosso', 1682, 'Knoddel', 1757, 'd4,d5,Nf3,c6,e3,Nf6,Bd3,h6,Nbd2,Bg4,b3,Nbd7,O-O,e5,dxe5,Nxe5,Be2,Nxf3+,Nxf3,Bd6,Bb2,Qc7,h3,Bh5,Bxf6,gxf6,Nd4,Bg6,Bg4,h5,Bf5,Be5,Rb1,c5,Bxg6,fxg6,Nf3,O-O-O,Nxe5,fxe5,Qe2,g5,c4,d4,exd4,cxd4,b4,Rdg8,b5,g4,h4,g3,f3,Qe7,Qe4,Rf8,c5,Rf4,Qd5,Qxh4,Qe6+,Kb8', 'Qxe5+,Kc8,Qxh8+', 'https://lichess.org/training/HC2WW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hc3AY', 'Rapid', 'SzalokiArpad', 1709, 'Mangetapomme', 1667, 'd4,d5,Bf4,Nf6,e3,Bf5,c4,e6,Nc3,Bb4,Qb3,Nc6,Rc1,O-O,a3,Bxc3+,Qxc3,Ne4,Qb3,Na5,Qa4,c6,cxd5,Qxd5,Nf3,Nb3,Bc4,Qa5+,Qxa5,Nxa5,b4,Nxc4,Rxc4,Rac8,O-O,b5,Rcc1,Bg4,Ne5,Bf5,Rxc6,Nf6,Rfc1,Rxc6,Rxc6,h6,Ra6,g5,Bg3,Ra8,Nc6,Be4,Rxa7', 'Bxc6,Rxa8+,Bxa8', 'https://lichess.org/training/Hc3AY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HC4SX', 'Rapid', 'straszliwiec', 1762, 'MrPrim2357', 1790, 'b4,e5,Bb2,Bxb4,Bxe5,Nf6,h3,O-O,c3,Be7,g4,Nc6,Bh2,Re8,e3,d5,Bg2,Be6,Ne2,Bf8,O-O,Ne4,f3,Nc5,Qc2,Qd7,d4,Na6,Nd2,Ne7,Rab1,Rab8,Nb3,c6,Bxb8,Rxb8,a4,f6,a5,Bf7,Qd2,Nc8,Rfc1,Nd6,Qe1,Bg6,Ra1,Re8,Qf2,Nc4,e4,dxe4,fxe4,Bxe4,Bxe4,Rxe4,Ng3,Re3,Ra2,Qe6,Re2', 'Rxg3+,Qxg3,Qxe2', 'https://lichess.org/training/HC4SX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hC5k2', 'Blitz', 'AI_coolTIM', 1648, 'shivam1470', 1737, 'e4,e5,d4,exd4,c3,Nc6,Bc4,dxc3,Nf3,Nf6,e5,Qe7,Qe2,c2,Nc3,Ng4,Bf4,d6,exd6,Qxe2+,Bxe2,Bxd6,Bxd6,cxd6,Bd3,O-O,O-O,Nb4,Bc4,Be6,Bxe6,fxe6,a3,Nd3,Ne2,Rac8,h3,Ngxf2,Rxf2,c1=Q+,Nxc1,Nxc1,g4,Nd3,Rff1,Nxb2,Rab1,Rc3,Kg2,Rc2+,Kg3,Nc4,Nd4,Rc3+,Kh4,Rxf1,Rxf1,Rxa3,Nxe6,h6,Rf8+,Kh7,Rf7,Ne5,Rxg7+,Kh8,g5,Ra4+,Kh5,hxg5,Rxg5,Nf7,Rg7,Ne5,Rxb7,Nf3,Kg6,Ne5+,Kf6,Rh4', 'Rb8+,Kh7,Ng5+,Kh6,Rh8#', 'https://lichess.org/training/hC5k2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hc5Na', 'Rapid', 'vlau', 2297, 'billik6464', 2249, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Bd6,O-O,Qe7,Re1,Bd7,d3,O-O-O,a3,Kb8,b4,f6,Bb2,g5,Nh2,h5,Nd2,g4,h4,g3,fxg3,Nh6,Nc4,Rdg8,Nf1,f5,Nxd6,Qxd6,Qf3,f4,gxf4,Rg4,Bxe5,Qf8,Bxh8,Qxh8,g3,Qg7,Kh2,Rg6,Ne3,Bg4,Qg2,Qd4,Nc4,Be6,Ne5,Ng4+,Nxg4,Rxg4,f5,Bf7,e5,Bd5,Qg1', 'Rxh4+,gxh4,Qxh4#', 'https://lichess.org/training/hc5Na');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hC6Iz', 'Rapid', 'samo_76', 1868, 'inkstain82', 1899, 'e4,g6,d4,Bg7,f4,d6,Nc3,Nd7,Nf3,e5,dxe5,dxe5,f5,Ne7,g4,c6,Be3,Nf6,Qxd8+,Kxd8,g5,Ng4,O-O-O+,Ke8,Bc5,gxf5,Bxe7,Kxe7,exf5,Bxf5,Nh4,Bg6,Bh3,f5,Bxg4,fxg4,Nxg6+,hxg6,Ne4,Rhf8,Rd6,Rf4,Rxg6,Rg8,Nf6,Rxf6', 'gxf6+,Bxf6,Rxg8', 'https://lichess.org/training/hC6Iz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hC71i', 'Blitz', 'kevinbananao', 2279, 'CM tainha', 2340, 'c4,c5,Nf3,Nc6,Nc3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,cxd4,Nxd4,d6,Nxc6,bxc6,Bxc6,Bh3,Bg2,Bxg2,Kxg2,Qc8,Qd3,Nd7,b3,a5,Bb2,Nc5,Qe3,Re8,Rfc1,a4,Nd1,Bxb2,Nxb2,axb3,axb3,Qb7+,f3,Qxb3,Qxb3,Nxb3,Rxa8,Rxa8,Rc3,Nc5,Nd3,Rc8,Nxc5,Rxc5,e4,f5,Kf2,fxe4,fxe4,Kf7,Ke3,Kf6,Kd4,h5,Rf3+,Ke6,Rf8,Ra5,Rf2,Ra3,Rf4,Kd7,e5,Ra5,exd6', 'e5+,Ke4,exf4', 'https://lichess.org/training/hC71i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hc74i', 'Rapid', 'rishankv07', 1659, 'hazem999', 1735, 'd4,d5,c4,e5,Nf3,Bb4+,Nc3,e4,Ng5,h6,Nh3,dxc4,d5,Nf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/Hc74i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hc9LK', 'Rapid', 'dggassing', 1655, 'ManuPanda', 1662, 'e4,c5,Bc4,e6,d3,Nc6,c3,d5,exd5,exd5,Bb5,Bd7,Qe2+,Be7,Nf3,Nf6,h3,O-O,O-O,Re8,Qc2,a6,Bxc6,Bxc6,Be3,b5,Nbd2,Bd6,Rfe1,Qc7,Bg5,Re6,Rxe6,fxe6,Bxf6,gxf6,Re1,e5,Qd1,Kh8,Nh4,Rg8,Nf5,d4,Ne4,Bf8,Qh5,Bxe4,Rxe4,dxc3,bxc3,b4,c4,a5,Nh6,Bxh6,Qxh6,a4,Qxf6+,Qg7,Qxg7+,Rxg7,Rxe5,b3,axb3,axb3,Rxc5', 'Rb7,Rc8+,Kg7,Re8,b2', 'https://lichess.org/training/hc9LK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCa7e', 'Rapid', 'alysskel', 2076, 'uraniumman77', 1995, 'e4,d6,Bc4,Nf6,Nc3,g6,h4,h5,Nh3,Bxh3,Rxh3,Bg7,Rg3,c5,d4,cxd4,Qxd4,Nc6,Bb5,O-O,Bxc6,bxc6,Qc4,Qe8,Rxg6,d5,Rxg7+,Kxg7,exd5,cxd5,Nxd5,Rc8,Qd3,Rd8,Qg3+,Kh8,Ne3,Qd7,b3,Qd4,Rb1,Ng4', 'Bb2,Qxb2,Rxb2', 'https://lichess.org/training/HCa7e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCBPu', 'Rapid', 'alynchess', 1804, 'Vilk68', 1857, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Nf3,Bg4,Bb5+,Nbd7,h3,Bh5,g4,Bg6,Ne5,e6,g5,a6,Ba4,b5,Nxb5,axb5,Bxb5,Ra7,gxf6', 'Qa5+,c3,Qxb5,fxg7,Bxg7', 'https://lichess.org/training/HCBPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hcCZg', 'Classical', 'Benji_Govinda', 1820, 'bishep27', 1730, 'c4,e5,g3,d5,cxd5,Qxd5,Nf3,e4,Nc3,Qc6,Ne5,Qd6,Qa4+,Nd7,Nxd7,Bxd7,Qxe4+,Be7,Qxb7', 'Bc6,Qb3,Bxh1', 'https://lichess.org/training/hcCZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hCFf2', 'Blitz', 'KBSBR', 1642, 'KnightVzion', 1586, 'c3,e5,d3,d5,h3,d4,g4,dxc3,bxc3,h5,Bg2,hxg4,hxg4,Rxh1,Bxh1,Nc6,Qa4,Bd7,g5,f6,Qh4,Qe7,a4,a6,a5,O-O-O,Ba3,Qf7,Bc1,Be7,Nd2,fxg5,Qe4,Bf5,Qa4,Bxd3,exd3,Rxd3,Bxc6,bxc6,Qxc6,Rxd2,Bxd2,Nf6,Bxg5,Ng4,Bxe7', 'Qxf2+,Kd1,Ne3+,Kc1,Qc2#', 'https://lichess.org/training/hCFf2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCFIH', 'Blitz', 'FM DJaeggi', 2576, 'IM Principatibus', 2601, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg5,c6,Nf3,Nd7,O-O-O,Ke8,Bc4,Be7,Bh4,Nh5,Bxe7,Kxe7,g3,f6,Nh4,g6,Ng2,Nb6,Bb3,Bg4,Rd3,a5,f3,Bh3,Ne3,a4,Bc4,Nxc4,Nxc4,b5,Ne3,Be6,a3,Ng7,Rhd1,h5,f4,Rad8,Rf1,Rxd3,cxd3,h4,g4,exf4,Rxf4,h3,d4,Bd7,e5,fxe5,dxe5,Ne6,Rf6,Ng5,Rxg6,Nf3,Nf5+,Bxf5,gxf5,Nxe5', 'Re6+,Kf7,Rxe5', 'https://lichess.org/training/HCFIH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hcFPv', 'Blitz', 'sjakkno02', 2301, 'manggo', 2469, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Nf3,Nc6,Bc4,Nb6,Bb3,d6,exd6,Qxd6,O-O,d3,Na3,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,d2,Nb5,Qe5,Ne6,dxc1=Q,Nbc7+,Kf7,Raxc1,Rc8,f4,Qf6,Rce1,Nd8,Ng5+,Kg8,Nd5,Qd6,Nxb6,Qxb6+,Kh1,Rc6,Qd7,h6,Nf3,Rd6,Qe8,Qc6,Qh5,g6,Qg4,Bg7,Ne5,Qb6,f5,Bxe5,Rxe5,Nc6,Re6,Rxe6,fxe6,Ne5,Qf4,Qd6', 'Qf8+,Kh7,Rf7+,Nxf7,Qxf7#', 'https://lichess.org/training/hcFPv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCg1I', 'Rapid', 'Santia_go', 1805, 'perkentz_alfa0', 1900, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,a3,Nf6,d4,Bf5,h3,e6,Nf3,Bd6,c4,dxc4,Bxc4,O-O,Nc3,Rc8,Ba2,e5,dxe5,Nxe5,O-O,Re8,Ng5,Rf8,Bf4,h6,Bxe5,Bxe5,Nxf7,Rxf7,Bxf7+,Kxf7,Qb3+,Kf8,Qxb7,a5,Rfe1,Bxc3,bxc3,Rxc3,Rad1,Qc8', 'Qe7+,Kg8,Rd8+', 'https://lichess.org/training/HCg1I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hcGiB', 'Classical', 'okuma-mb-5000h', 1619, 'mbappe512', 1656, 'e4,c5,Bc4,Nc6,a3,g6,Nf3,Bg7,Ng5,e6,d3,Nge7,Qf3,O-O,Qh3,h6,Nf3,Kh7,Ng5+,Kg8,Nf3,h5,Nc3,d5,Bb5,a6,Bxc6,bxc6,O-O,dxe4,Nxe4,e5,Qg3,Nf5,Qg5,Qxg5,Bxg5,Nd4,Rac1,Nxf3+,gxf3,c4,dxc4,Bf5,Rfe1,Rfd8,Nf6+,Bxf6,Bxf6,Rd2,c3,Rxb2,Rxe5,Be6,Rce1,Rc2,Kg2,Rb8,Rc5,Rbb2,Bh4,g5,Bxg5,Rxf2+,Kg3,Rg2+,Kf4,Kg7,Rxc6,Kg6,Be7,Rbc2,Rxa6,Rxc3,c5,Rc4+,Ke5,Rg5+,Kd6,Rd5+,Kc7', 'Rd7+,Kb6,Rxe7', 'https://lichess.org/training/hcGiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCGw3', 'Blitz', 'srge', 1547, 'jmontalvo', 1526, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,c5,dxc5,Bxc5,cxd5,exd5,Nxd5,Qxd5,Qxd5,Nxd5,e4,Nb4,Rc1,Bb6,Bb5+,Bd7', 'Rc8+,Bd8,Rxd8#', 'https://lichess.org/training/HCGw3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hCH9d', 'Rapid', 'GBU2', 1687, 'jazocar', 1667, 'e4,e5,Nc3,Bc5,Bc4,Nf6,f4,Nc6,fxe5,Nxe5,d4,Nxc4,dxc5,O-O,Bf4,Qe7,Qd3,Qxc5,b3,Ne5,Bxe5,Qxe5,Nf3,Qa5,e5,Ng4,O-O,Nxe5,Nxe5,Qxe5,Rae1,Qc5+,Re3,Re8,Ne4,Qb6,Kh1,d5,Ng5,Qxe3', 'Qxh7+,Kf8,Rxf7#', 'https://lichess.org/training/hCH9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HChmd', 'Blitz', 'El_Tel', 1710, 'GreatOwl', 2087, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Nb3,c5,c3,Nc6,f4,a5,a4,Qb6,Nf3,Be7,Bb5,c4,Nbd2,Na7,Bxd7+,Bxd7,O-O,Nc6,Ng5,h6,Qh5,g6,Qh3,Nd8,b3,cxb3,Rb1,Bxa4,Bb2,Bb5,c4,dxc4,Nde4,c3,Nf6+,Bxf6,exf6,cxb2,Rfe1,Qxd4+,Kh1,a4,Ne4,Bd3,Nd6+,Qxd6,Rxb2,Bf5,Qc3,O-O,Rd2,Qc6,Qb4,a3,Qxb3,a2,Rxa2,Rxa2,Qxa2,b5,Qf2,Qb7,Qh4,Kh7,Re3,Be4', 'Qxh6+,Kxh6,Rh3#', 'https://lichess.org/training/HChmd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HcKuA', 'Rapid', 'Kolyandra-2_0_1_7', 1755, 'Z-pro', 1735, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Bb4,cxd5,Bxc3+,bxc3,Qxd5,Bxf6,gxf6,Nf3,b6,e3,Bb7,Bd3,Rg8,e4,Qh5,g3,Qg4,Qe2,f5,h3,Qh5,d5,Kf8,dxe6,fxe6,Nd2,Qxe2+,Kxe2,fxe4,Bxe4,Bxe4,Nxe4,Ke7,c4,c5,a4,Nc6,Rhg1,Rad8,f4,Nd4+,Kf2,Rgf8,Rad1,e5,Ng5,h6,Nf3,exf4,Rge1+,Ne6,Ne5,Rxd1,Ng6+,Kf7,Ne5+,Kf6,Ng4+,Kg5,Rxd1,fxg3+,Kxg3,Rf4,Rd5+,Rf5,Rd6,Nd4', 'h4+,Kh5,Rxh6#', 'https://lichess.org/training/HcKuA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HcLY3', 'Rapid', 'philip17', 1660, 'blind_shumbu', 1792, 'e4,e5,Bc4,Nf6,Nf3,Nc6,d3,Be7,Bg5,O-O,Nc3,d6,Bxf6,Bxf6,O-O,Bg4,Nd5,Nd4,Ne3,Nxf3+,gxf3,Bh3,Re1,Bg5,Ng2,Bxg2,Kxg2,Bf4,Kf1,c6,d4,d5,exd5,cxd5,Bb3,Qh4,dxe5,Qh3+,Ke2,Rae8,Kd3,Bxe5,Bxd5,Qf5+,Re4,Rd8,c4,Bxb2,Rb1,Bf6,Rxb7', 'Rxd5+,cxd5,Qxd5+,Ke2,Qxb7', 'https://lichess.org/training/HcLY3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hCmvF', 'Rapid', 'o-Mido-o', 2049, 'MisterY', 2035, 'c4,e6,d4,d5,Nc3,Nf6,cxd5,exd5,Bf4,a6,Nf3,Bd6,Bxd6,Qxd6,e3,O-O,Bd3,Re8,Qc2,Nc6,a3,h6,O-O,Bg4,Be2,Ne4,h3,Bh5,Rac1,f5,b4,g5,Nh2,Bxe2,Qxe2,Qg6,Nxe4,fxe4,f4,exf3,Rxf3', 'Nxd4,Qd1,Nxf3+', 'https://lichess.org/training/hCmvF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hCnfk', 'Classical', 'berlinduvari0', 1720, 'MBV68', 1708, 'd4,d5,c4,e6,Nc3,Nf6,e3,Bb4,a3,Bxc3+,bxc3,O-O,Bd3,b6,cxd5,exd5,Qc2,Nbd7,Ne2,c5,Ng3,cxd4,cxd4,Bb7,O-O,Rc8,Qb1,Qc7,Bb2,Ne4,Nxe4,dxe4,Bxe4,Bxe4,Qxe4,Nf6,Qd3,Rfe8,Rac1,Qd6,f3,Nd5,e4,Nf4,Qe3,Rxc1,Rxc1,Qh6,Kh1,g5,Rc7', 'Nd5,Qc1,Nxc7', 'https://lichess.org/training/hCnfk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hCnH2', 'Classical', 'nataliaduka', 1832, 'Hawk97', 1843, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Ne2,Bb7,a3,Be7,Ng1,d5,cxd5,Nxd5,Nxd5,Bxd5,Nf3,O-O,Bd3,f5,O-O,Bd6,Bd2,Nd7,b4,e5,dxe5,Nxe5,Nxe5,Bxe5,Rb1,Qh4,f4,Bd6,Be2,Rae8', 'Be1,Qf6,Qxd5+', 'https://lichess.org/training/hCnH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCp86', 'Rapid', 'joopgij', 1724, 'rogerlyra', 1721, 'd4,Nf6,Bf4,g6,Nc3,d6,e4,Bg7,Qd2,Nc6,O-O-O,e5,dxe5,dxe5,Qe3,Qe7,Bg5,O-O,Nd5,Nxd5,exd5,f6,Bh6,Nd4,Bxg7,Kxg7,h4,h6,f3,Qc5,Bd3', 'Nb3+,axb3,Qxe3+', 'https://lichess.org/training/HCp86');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCqhf', 'Classical', 'Kandata', 1825, 'JuditSassoon', 1809, 'e4,d5,exd5,Nf6,Nc3,c6,d4,cxd5,Nf3,Bg4,Be2,Nc6,h3,Bh5,Bf4,e6,Ne5,Bxe2,Qxe2,Nxd4,Qd2,Bc5,Be3,Ne4,Nxe4,dxe4,O-O-O,Qd5,c4,Qxe5,Bxd4,Bxd4,Qxd4,Qf4+,Kb1,O-O,Qd2,Qc7,Qe2,f5,b3,a5,g4,a4,gxf5,exf5,Rhg1,axb3,axb3,Qa5,Qb2,Qc7,Rd5,Ra7,Rc5,Qe7,Re5,Qf6,Rxf5', 'Qxb2+,Kxb2,Rxf5', 'https://lichess.org/training/HCqhf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCQLX', 'Rapid', 'joco88', 2141, 'rumdii', 1951, 'c4,e5,Nc3,d6,Nf3,Bg4,d4,Nd7,dxe5,dxe5,h3,Be6,e4,Ngf6,Bg5,h6,Bxf6,Nxf6,Qb3,Bc5,Rd1,Qe7,Nd5,Nxd5,cxd5,Bd7,Bb5', 'Bb4+,Nd2,Bxb5', 'https://lichess.org/training/HCQLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCrVj', 'Rapid', 'amuba', 1899, 'kgb888', 1847, 'd4,d5,g3,Nf6,Bg2,e6,Nf3,c5,O-O,Nbd7,b3,b6,Bb2,Bb7,c3,cxd4,cxd4,Bd6,Nc3,Rc8,Re1,O-O,Nd2,e5,e4,exd4,Nxd5,Nxd5,exd5,Nf6,Bxd4,Bxd5', 'Bxf6,Qxf6,Bxd5', 'https://lichess.org/training/HCrVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HcRw4', 'Rapid', 'Landi_Araujo', 1837, 'VrumVrum', 1872, 'Nf3,Nc6,b3,d5,Bb2,Nf6,g3,Bf5,d3,e6,Bg2,Bb4+,Nbd2,O-O,a3,Bxd2+,Qxd2,a6,Nh4,Bg6,Nxg6,fxg6,O-O,Ng4,h3,Nf6,Qc1,Rf7,e4,dxe4,dxe4,e5,Qe3,Nd4,Rac1,c5,Rfd1,Qe8,c3,Nxb3,Rb1,c4,Rd6,b5,Rbd1,Rd7,Qb6,Qd8,Qc6,Qc8', 'Qxc8+,Rxc8,Rxd7,Nxd7,Rxd7', 'https://lichess.org/training/HcRw4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCSuq', 'Blitz', 'WCM NicolleM_13', 2090, 'Claudio1971', 1971, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Nge7,dxc5,Qxc5,Be3,Qa5,O-O,Qc7,Bf4,Ng6,Bg3,Ngxe5,Nxe5,Nxe5,Bxe5,Qxe5,Bb5+,Bd7,Bxd7+,Kxd7,Re1,Qc7,Nd2,Bd6,Nf3,h6,h3,Qb6,Qa4+,Qc6,Qg4,g6,Nd4,Qb6,Qe2,e5,Nf3,f6,b3,Rac8,Rad1,Rc5,c4,dxc4,bxc4,Rhc8,Qd3,Rg8,Nh4,g5,Nf5,Rc6,Nxh6,Rg7,Nf5,Rf7,a4,Kc7,a5,Qa6,c5,Bxc5', 'Qd8#', 'https://lichess.org/training/HCSuq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCtiV', 'Rapid', 'Mordrag7', 1820, 'aurelius91', 1766, 'e4,e5,Bc4,d6,Nf3,Be7,O-O,Nf6,Nc3,O-O,d4,exd4,Nxd4,Nc6,Bf4,Nxd4,Qxd4,a6,Rad1,Be6,e5,Bxc4,exf6,Bxf1,fxe7,Qxe7,Kxf1,Rfe8,Be3,Qe5,Qxe5,Rxe5,Bd4,Ree8,Nd5,Rac8,Re1,c5,Rxe8+,Rxe8,Be3,Re5,Nb6,Re4,a3,f5,g3,h6,Kg2,g5,b3,f4,gxf4,gxf4,Bd2,Re2,Bxf4,Rxc2,Bxd6,Rb2,Bxc5,Rxb3,Nc4', 'Rc3,Na5,Rxc5', 'https://lichess.org/training/HCtiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hcTJv', 'Blitz', 'Guyidead', 1858, 'derkassierer', 1974, 'e4,c5,Nf3,e6,d4,cxd4,c3,d3,Bxd3,Nc6,c4,Bc5,Nc3,Nf6,Qe2,O-O,Be3,Bxe3,Qxe3,d5,cxd5,exd5,exd5,Re8,Ne4,Nxd5,Qc5,f5,O-O,fxe4,Bc4,Be6,Rfe1,exf3,Rxe6,Rxe6,Bxd5,Qf6,Re1,Re8,Qc4,Nd8,Qb5,Kh8', 'Qxe8+,Rxe8,Rxe8+,Qf8,Rxf8#', 'https://lichess.org/training/hcTJv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCUkF', 'Classical', 'Glemeleto', 1694, 'AJ31', 1893, 'e4,Nc6,d4,e5,d5,Nce7,c4,Ng6,c5,Bxc5,Nc3,a6,Nf3,d6,b4,Bxb4', 'Qa4+,b5,Qxb4', 'https://lichess.org/training/HCUkF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCvQb', 'Classical', 'dragon198', 1668, 'abdulhamit46', 1661, 'e4,e6,Nf3,Bc5,d4,Bb6,Nc3,c6,e5,d5,Bg5,Qd7,Bd3,h6,Be3,Ba5,Bd2,Bb6,O-O,f5,exf6,Nxf6,Ne5,Qe7,Bg6+,Kd8,Nf7+,Kd7,Nxh8,Bxd4,Nf7,Kc7,Bf4+,e5,Re1,Bxf2+,Kxf2,Qc5+,Kf1,exf4,Bd3,Ng4,Qd2', 'Nxh2+,Ke2,Bg4#', 'https://lichess.org/training/HCvQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hcVws', 'Rapid', 'barakatnafez', 1896, 'mauriciom', 1947, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Be7,O-O,d6,Nc3,c5,e3,O-O,Qc2,Nbd7,dxc5,bxc5,e4,a6,Bg5,h6,Bxf6,Nxf6,Rad1,Qc7,b3,Rfd8,Rd2,Rd7,Rfd1,Rad8,h3,d5,exd5,exd5,Nxd5,Nxd5,cxd5,Rxd5,Ng5,Rxd2', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/hcVws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hcw3z', 'Blitz', 'oksano4ka', 2168, 'Dmitry2306', 1877, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Na3,cxd4,cxd4,Nf5,Nc2,Qb6,Bd3,Nb4,Bxf5,exf5,O-O,Nxc2,Qxc2,Be6,Be3,Rc8,Qa4+,Bd7,Qd1,h6,Rc1,Rxc1,Qxc1,Be7,b3,g5,Qc2,f4,Bd2,O-O,Rc1,Ba3,Rd1,Rc8,Qb1,Qg6,Qxg6+,fxg6,h4,gxh4,Nxh4,g5,Nf3,Bg4,Kf1,Rc2,Ke2,Rxa2,Kd3,Bb4,Bxb4', 'Bf5+,Kc3,Rc2#', 'https://lichess.org/training/Hcw3z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hCXIm', 'Blitz', 'maestro_aberbach', 1707, 'giovanichess', 1608, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Nb5,a6,N5a3,Nf6,Nc3,Be7,Nd5,Nxd5,exd5,Ne5,c3,c6,Nc2,c5,Ne3,b5,b3,O-O,Be2,Bg5,O-O,Bxe3,Bxe3,f6,c4,b4,a3,Qb6,axb4,Qxb4,Bd2,Qb6,f4,Nf7,Bc3,Bd7,Bf3,Rfe8,Rb1,a5,Re1,h6,Rxe8+,Rxe8,Ra1,Ra8,Qe2,Qxb3,Qe7,Qxc3,Rf1,Ba4,Be4,Qxc4,Bg6,Qxd5,Re1,Be8', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/hCXIm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hCxwT', 'Rapid', 'es44', 1781, 'siyahbeyaz60', 1666, 'e4,c5,Qf3,Nf6,Bc4,e6,d3,a6,a3,b5,Ba2,Qb6,e5,Bb7,Qg3,Nh5,Qg4,Nf4,Bxf4,f5,exf6,gxf6,Nf3,Nc6,Qh5+,Kd8,Nbd2,b4,axb4,Nxb4,Nc4,Qb5,O-O,d5,Ne3,d4,Bc4,Qc6,Nd1,e5,Bh6,Rg8,Bxf8,Qxf3,Be7+,Kd7,Be6+', 'Kxe6,Qxf3,Bxf3', 'https://lichess.org/training/hCxwT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCyee', 'Rapid', 'lucasm17', 2387, 'Pater_Obassa', 2441, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Qc7,Be3,a6,Qd2,Nf6,f3,b5,O-O-O,Bb7,Nxc6,Qxc6,Ne2,Rc8,Nd4,Qc7,Kb1,d5,e5,Qxe5,Bf4,Qh5,g4,Qg6,Bd3,Ne4,fxe4,dxe4,Bxb5+,axb5,Nxb5,Bd5,Nc7+,Rxc7,Bxc7,Be7,Qe2,O-O,c4', 'e3+,Ka1,Bxh1', 'https://lichess.org/training/HCyee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HCZhY', 'Blitz', 'iamthelonewolf', 1741, 'Unnamed_player', 1765, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Bb7,Ba4,Be7,c3,O-O,b4,c5,Qh3,Nc4,Bc2,h6,Nf3,Qd5,Nh4,Ne4,Nf5,Bg5,d4,cxd4,Bxg5,Nxg5,Nxh6+,gxh6,Qxh6,Qxg2,Rf1,Nf3+,Ke2,Ba6,Bd3,e4,Bxe4,Nd6+,Bd3,Bxd3+,Kxd3,Qxf1+,Kc2,Qe2+,Kb3,Nb5,Na3,Nxc3,Nc2,Rac8,Nxd4,Nxd4+,Ka3,Ncb5+,Ka4,Nd6', 'Rg1+,Qg4,Rxg4#', 'https://lichess.org/training/HCZhY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hczIA', 'Rapid', 'wonk_palembang', 1794, 'sosed43', 1796, 'e4,c5,c4,Nc6,Nc3,g6,Nf3,Bg7,a3,e6,d3,Nd4,Be3,e5,Nd5,Ne7,Bg5,f6,Nxf6+,Kf7,Nxe5+,Ke6,Qg4+,Kxe5,f4+,Kd6,e5+,Kc7', 'Nd5+,Nxd5,Bxd8+', 'https://lichess.org/training/hczIA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hD0cB', 'Blitz', 'ronychess', 1732, 'jpmendes86', 1981, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,Nc6,d4,cxd4,Nxd4,Nf6,Be3,e5,Nxc6,bxc6,Qd2,Be7,Bd3,O-O,f4,Ng4,f5,Nxe3,Qxe3,Bg5,Qg3,Bf4,Qf3,d5,g3,Bg5,h4,dxe4,Nxe4,Bf6,O-O-O,Qa5,a3,Rb8,Nc3,Qb6,Na4,Qc7,g4,g6,fxg6,fxg6,Kb1,e4,Bxe4,Bxb2,Nxb2,Rxf3,Rhe1,Qb6,Bd5+,Kg7,Re7+,Kf6,Re6+,Kf7', 'Rxc6+,Kg7,Rxb6,Rxb6,Bxf3', 'https://lichess.org/training/hD0cB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hd0Iv', 'Blitz', 'listik_e', 1634, 'ndimon', 1516, 'e4,e5,f4,Nc6,Nf3,f5,exf5,e4,Ne5,Nf6,Nxc6,dxc6,Bc4,Bxf5,O-O,Bc5+,Kh1,Bg4,Be2,Bxe2,Qxe2,Qe7,d3,O-O-O,Re1,Rhe8,Nc3,exd3,Qxe7,Rxe7,Rxe7,Bxe7,cxd3,Rxd3,f5,Bb4,Bg5,Ng4,Re1,Bxc3', 'Re8+,Kd7,Rd8#', 'https://lichess.org/training/hd0Iv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hd1cd', 'Blitz', 'Nalzeban', 1760, 'PapstClemens', 1830, 'e4,c5,Nc3,g6,d3,Bg7,Be3,d6,g3,Nc6,Bg2,Nf6,h3,O-O,Qd2,Re8,Nge2,e5,O-O,Nd7,Bh6,Rf8,Bxg7,Kxg7,f4,f5,exf5,Rxf5,Be4,Rf7,f5,Nf6,fxg6,hxg6,Bg2,Nd4,Rf2,Be6,Raf1,Qe7,b3,Raf8,Nxd4,cxd4,Ne4,Nxe4,Bxe4,Bxh3,Rxf7+,Rxf7,Rxf7+,Qxf7,Qe2,Bf5,Bg2,b6,Qd2,Qc7,Bd5,Qc5,Bg2,Qa3,c4,dxc3,Qxc3,Qxa2,Qc7+,Kh6,Qxd6,Qxb3,Qxe5,Qxd3', 'Qh8+,Kg5,Qh4#', 'https://lichess.org/training/hd1cd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hd1ea', 'Blitz', 'CapitanNudillos', 2052, 'Manuelecampos', 2296, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Nc6,Nxc6,dxc6,O-O,e5,c4,Qc7,Nc3,Nf6,Bg5,Be6,Qc2,h6,Be3,Ng4,Bd2,Bc5,Rad1,O-O-O,Na4,Bd4,b4,h5,h3,Nf6,c5,Rdg8,Nb6+,Kb8,a4,g5,Be3,h4,b5,g4,bxa6,gxh3,Qd2,Rxg2+,Kh1,Ng4', 'a7+,Kxa7,Qa5+,Kb8,Qa8#', 'https://lichess.org/training/Hd1ea');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HD1p6', 'Rapid', 'chemsjheer', 1769, 'mehmet_001', 1920, 'Nf3,f5,c4,Nf6,d3,h6,g3,d6,Bg2,e5,O-O,Nc6,e3,Be6,Nc3,e4,dxe4,fxe4,Nd2,d5,cxd5,Bxd5,Nxd5,Qxd5,Nxe4,O-O-O,Nxf6', 'Qxd1,Bh3+,Kb8,Rxd1,Rxd1+', 'https://lichess.org/training/HD1p6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HD1WG', 'Rapid', 'cplyakap1905', 2156, 'swadhin', 2162, 'd4,Nf6,c4,e6,a3,b6,Nc3,Bb7,h3,Be7,Bf4,c6,e3,O-O,Nf3,d5,cxd5,cxd5,Bd3,Bd6,Bxd6,Qxd6,O-O,Ba6,b4,Bxd3,Qxd3,Nbd7,Rac1,Rac8,Nb5,Qb8,Nd2,a6,Nc3,b5,Nb3,Nb6,Nc5,Qa7,a4,Nxa4,N3xa4,bxa4,Ra1,Qb6,Rxa4,Qb5,Rxa6', 'Rxc5,Qxb5,Rxb5', 'https://lichess.org/training/HD1WG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hd2LJ', 'Rapid', 'asexualzeus', 1672, 'RATI51', 1649, 'd4,Nf6,c4,b6,Nc3,d5,e3,e6,Nf3,Bb7,Be2,Nbd7,a3,c5,O-O,Bd6,h3,e5,cxd5,Nxd5,Bc4,Nxc3,bxc3,exd4,cxd4,O-O,Bb2,Qc7,Qb3,cxd4,Ng5,Ne5,Rac1,Nxc4,Rxc4,Qe7,f4,Bd5,Bxd4,Bxc4,Qxc4,Bxa3,Qd3,f5,Qc4+,Kh8,Ne6,Bc5', 'Bxg7+,Qxg7,Nxg7', 'https://lichess.org/training/hd2LJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hd2vj', 'Rapid', 'antayinti', 1615, 'iliasgr', 1681, 'e4,e5,Nf3,Nc6,Bc4,Nd4,d3,Nxf3+,Qxf3,Nf6,Bg5,Be7,Nc3,a6,Nd5,b5,Bb3,a5,a3,a4,Ba2,Ra6,Nxf6+,Bxf6,Bxf6,Rxf6,Qh5,c6,O-O,d5,Qxe5+,Be6,exd5,cxd5,Rae1,O-O,Qe3', 'd4,Qe5,Bxa2', 'https://lichess.org/training/hd2vj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hd4kM', 'Blitz', 'IM MitchyF', 2453, 'orange_keny', 2367, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,g4,e5,d5,Ne8,h4,f5,h5,Qf6,h6,fxg4,Be3,Bh8,Bxg4,Bxg4,Qxg4,c6,O-O-O,Nc7,Rh3,cxd5,cxd5,Nba6,Nf3,Qe7,Kb1,Rac8,Bxa7,Rf4,Qg2,Rcf8,Be3,R4f7,Ng5,Rf6,Rc1,Ra8,a3,Qf8,Qf1,Qe7,Qc4,Raf8,Rg3,Qd7,b4,Rc8,Qd3,Ne8,Kb2,Nac7,a4,Rf8,a5,Bf6,Nf3,Bd8,Nd2,Kh8,Nc4,Nb5,Nxb5,Qxb5,Kb3,Be7,Rc3,Nf6,f3,Rc7,Nb6,Qxd3,Rxd3,Bd8,Nc4,Be7,Bb6,Rcc8,b5,Nh5,Rg1,Nf4,Rc3,Bd8,Bxd8,Rfxd8,Re1,Ng2,Nb6', 'Rxc3+,Kxc3,Nxe1', 'https://lichess.org/training/Hd4kM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HD56v', 'Rapid', 'Levaldemir', 1841, 'ahmed_ismairl', 1818, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Ne7,Nf3,Nbc6,Nc3,Nf5,Be3,Bb4,Qa4,O-O,a3,Bd7,axb4,Ncxd4,Qd1,Nxe3,fxe3,Nxf3+,Qxf3,Qb6,Qf4,a5,bxa5', 'Qxb2,Rb1,Qxc3+', 'https://lichess.org/training/HD56v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hd5cy', 'Classical', 'bobbydan', 1912, 'AYMANHK', 1885, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd3,d5,Ne2,dxc4,Bxc4,Nc6,O-O,b6,a3,Bxc3,bxc3,Bb7,Bd3,a5,e4,e5,d5,Ne7,Ng3,c6,c4,cxd5,cxd5,Rc8,Bg5,Ng6,Nh5,Qd6,Nxf6+,gxf6,Bh6,Rfd8,Qb3,Nf4,Bxf4,exf4,Rfb1,f5,Qxb6', 'Rc1+,Rxc1,Qxb6', 'https://lichess.org/training/hd5cy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HDAxP', 'Rapid', 'rgalleg7', 1735, 'babacahit', 1760, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Bg4,h3,Bh5,g4,Bg6,Ne5,Be4,f3,Bg6,Nxg6,fxg6,Bg5,Bd6,Qd3,Bg3+,Kd2,O-O,Rd1,Nbd7,Kc1,a6,Nxd5,c6,Nc3,b5,Ne4,Bc7,d5,cxd5,Nxf6+,gxf6,Qxd5+,Rf7,Be3,Nb6,Qc6,Qe7,Bxb6,Rc8,Bd3', 'Bf4+,Kb1,Rxc6', 'https://lichess.org/training/HDAxP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hDbgz', 'Rapid', 'Peshka19', 2072, 'yburak2004', 2137, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Bxf7+,Kxf7,Qd5+,Kf8,Qxc5+,d6,Qxc3,Nf6,Qe3,Bg4,O-O,Qe7,Nc3,Re8,Re1,Bxf3,Qxf3,Nd4,Qd3,c5,Bg5,a6,Nd5,Qf7,Nxf6,gxf6,Bf4,Ke7,b4,Rhg8,bxc5,dxc5,Rac1,Qg6,g3,Rc8,Qc3,Qg4,Be3,Nf3+,Kg2,Nxe1+,Rxe1,b6,e5,Kf7,exf6,Rge8,Qb3+,Re6,Bh6,Rc6,Bg7,c4,Qc3,Rxe1,Qxe1,c3,Qe7+,Kg6,h3,Qe6,Qd8,c2,h4,c1=Q,Qd3+,Kf7,h5,Qee1,Qd5+,Ke8', 'f7+,Ke7,f8=Q#', 'https://lichess.org/training/hDbgz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdbHg', 'Blitz', 'MK_Juic_R', 2324, 'FM Hadza_3', 2448, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,d6,d3,c6,c4,Qa5,h4,Qh5,Nc3,e5,Bg5,h6,Bxf6,Bxf6,Ne4,Be7,Qb3,f5,Nc3,f4,Ne4,g5,c5,d5,Nd6+,Bxd6,cxd6,g4,Nd2,Nd7,Qb4,O-O,a4,a5,Qb3,Qg6,Rac1,Qxd6,Ne4,Qe7,gxf4,exf4,f3,g3,e3,Qxh4,Rfe1,Ne5,exf4,Qh2+,Kf1,Bh3,Qc2,Ng4,Bxh3,Qxh3+,Qg2,Nh2+,Kg1,Qxg2+,Kxg2,dxe4,Rxe4,Rad8,Kxg3,Rxd3,Kxh2,Rd2+,Kh3,Rxb2,Rg1+,Kf7,Re5,Rb4', 'Rf5+,Ke6,Rxf8', 'https://lichess.org/training/hdbHg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hDbPj', 'Blitz', 'Checkmateking-Gm', 1685, 'Achessina', 1710, 'e4,c5,Nc3,Nc6,Nf3,e5,Bb5,Qc7,d3,d6,h3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd5,Qd8,O-O,O-O,c3,Bd7,Nd2,a6,Ba4,b5,Bc2,Bg5,Nf3,Bh6,a4,Ne7,Nxe7+,Qxe7,a5,f5,Nh2,Rf6,Bb3+,Kh8,Bd5,Raf8,Qe2,Rg6,Kh1,fxe4,dxe4,Qh4,Bb7,Bxh3,gxh3,Qxh3,Rg1,Bf4,f3,Rh6,Rg2,Rff6,Rag1,g5,Bxa6,c4,Bxb5,Rh4,a6,Rfh6,a7', 'Qxh2+,Rxh2,Rxh2+,Qxh2,Rxh2#', 'https://lichess.org/training/hDbPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hDCDM', 'Rapid', 'Hanaoka_2004', 1770, 'Maris-S', 1740, 'e4,e5,Nf3,d6,Nc3,Nf6,d4,exd4,Nxd4,c5,Nf5,Nxe4,Nxe4,Bxf5,Bb5+,Nc6,Bxc6+,bxc6,Qe2,Be7,Bf4,d5', 'Nd6+,Kf8,Nxf5', 'https://lichess.org/training/hDCDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdDgt', 'Classical', 'kruxi', 1762, 'skyryogurt', 1727, 'd4,f5,c4,Nf6,Nc3,b6,e3,Bb7,Nf3,e6,Bd2,g6,Qc2,d5,b3,Nbd7,Be2,Bd6,h3,h5,Ng5,Ne4,Nxe6,Qe7,Nf4,Ndf6,Nxg6,Qg7,Nxh8,Qxg2,Rf1,Bg3,O-O-O,Nxf2,Rg1,Qxh3,Rdf1,N6e4,Nxe4,dxe4,Be1,Qh2,Ng6,O-O-O,Ne7+,Kb8,Nxf5,h4,Nxg3,hxg3,Bxf2,gxf2,Rh1,Qg2,Bh5,Rf8,Qb2,Rf5,Be2,Rf6,d5,Rf8,Rh8,Rxh8,Qxh8+,Bc8,Qh1,Qg3,Qxe4,Bh3,Qf3', 'Qxf3,Bxf3,Bxf1', 'https://lichess.org/training/hdDgt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hDf3I', 'Rapid', 'FJ44', 1626, 'dhruv7832', 1835, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,e5,Nc3,Nbd7,Nd5,Nxd5,Bxd5,Nb6,c4,Be7,h3,O-O,g4,Nxd5,cxd5,b5,g5,f5,h4,fxe4,dxe4,Bg4,Rg1,Bxf3,Qd3,c4,Qe3,Qa5+,Bd2,Qb6,Qc3,Rab8,Be3,Qb7,g6,h6,Rg3,Bxh4,Rh3,Be7,Bxh6,Bxe4,Qe3,Qxd5,Bxg7,Kxg7,Qh6+,Kf6,g7+,Bg6,gxf8=Q+,Rxf8,Qh4+,Ke6,Qg4+,Bf5,Rh6+,Rf6', 'Qg8+,Kd7,Qxd5', 'https://lichess.org/training/hDf3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HdfaH', 'Rapid', 'pilipukevgen', 1825, 'FSC77', 1790, 'e4,e5,b3,Bc5,Bb2,d6,Qh5,Nf6,Qf3,Bg4,Qd3,O-O,Nf3,Nc6,a3,a6,Be2,Bxf3,Bxf3,Bd4,c3,Bb6,O-O,Na5,b4,Nc6,b5,axb5,Qxb5,Ra5,Qe2,Ra8,a4,Na5,Na3,Nb3,Rad1,Nc5,d4,exd4,cxd4,Nxa4,Bc1,Nc3,Qd3,Nxd1,Rxd1,h6,Qe2,Nh7,e5,dxe5,dxe5,Qc8,Bg4,Qe8,Bd7,Qe7,Nc4,Qc5,Be3,Qb4,Nxb6,cxb6,e6,fxe6,Bxe6+,Kh8,h3,Rfd8,Rc1,Re8,Bf7,Red8,Rc4,Qb1+,Kh2,Ra1,Qg4,Qh1+,Kg3,Rg1,Kf3,Ng5+', 'Bxg5,Rxg2,Qxg2', 'https://lichess.org/training/HdfaH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hDfdH', 'Rapid', 'I-am-the-senate2137', 1642, 'Ugu1r', 1659, 'e4,e5,Nf3,Nc6,d4,f6,dxe5,fxe5,Bg5,Nf6,Nc3,Bc5,Bc4,d6,h3,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Qe7,Qf3,Rf8,Nd5,Qg7,Bxf6,Qh7,g4,Nd4,Qd3,Bxg4,c3,Nf3+,Kf1,Bxh3+,Ke2,Nd4+,Kd2,Qh6+,Kd1', 'Bg4+,f3,Qxh1+', 'https://lichess.org/training/hDfdH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hDFt4', 'Rapid', 'SE1861', 1727, 'Magnetite', 1707, 'e4,Nc6,d4,d5,e5,f6,Nf3,fxe5,dxe5,Bf5,Bb5,Qd7,Bf4,e6,Qd2,a6,Ba4,Bc5,Nc3,Nge7,O-O-O,O-O-O,h3,Qe8,g4,Be4,Qe2,b5,Nxb5,axb5,Bxb5,Rf8,Ba6+,Kd7,Ng5,Rxf4,Nxe4,Qg6,Nxc5+,Ke8,Bb5,Qh6,Kb1,Kf8,g5,Qxg5,Rhg1,Qf5,h4,Kg8,Rg5,Qf7,Rdg1,g6,h5,Rxf2,Qe1,Rf8,hxg6,hxg6,Bxc6,Rf1,Rxg6+', 'Nxg6,Rxf1,Qxf1', 'https://lichess.org/training/hDFt4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdGLf', 'Rapid', 'Schachmarv', 1683, 'Drimyx', 1631, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Bxf2+,Kxf2,Nxe5,d4,Ng6,Bc4,c6,Qf3,Nf6,e5,d5,exf6,dxc4,fxg7,Rg8,Bh6', 'Qh4+,g3,Qxh6', 'https://lichess.org/training/hdGLf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HdgUI', 'Blitz', 'powerXstar', 1596, 'Yugurson', 1602, 'e4,c5,d4,e6,dxc5,Bxc5,Nc3,Nc6,Nge2,Nf6,g3,O-O,Bg2,d5,exd5,exd5,O-O,Bg4,Re1,d4,Ne4,Nxe4,Bxe4,Re8,Bd3,Qf6,Bf4,Bf3,Qd2,Qe6,Nxd4,Qh3,Bf1,Rxe1,Rxe1,Qd7,Nxf3,Qf5,Bd3,Qg4,Ne5,Nxe5,Bxe5,Qf3,Rf1,Rd8,c3,Rxd3,Qf4', 'Bxf2+,Rxf2,Rd1+,Rf1,Rxf1#', 'https://lichess.org/training/HdgUI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HDGXd', 'Blitz', 'sHarMadeEpAk736', 1566, 'Smyrnoff', 1553, 'd4,d5,e3,Nf6,Nf3,Bg4,Be2,e6,a3,Bd6,Nbd2,O-O,b4,h6,Bb2,Nbd7,Ne5,Bxe2,Qxe2,Bxe5,dxe5,Nh7,Nf3,c5,c3,c4,O-O,f6,exf6,Nhxf6,Nd4,Qe7,Rfe1,Qf7,Rab1,Ne4,Rf1,Ndf6,f3,Ng5,Rf2,Qg6,Rbf1,Nh3+,Kh1,Nxf2+,Qxf2,Ne4,Qh4,Rf5,Rg1,Rh5,Qe1,Rxh2+,Kxh2', 'Qh5+,Qh4,Qxh4#', 'https://lichess.org/training/HDGXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HdHVl', 'Blitz', 'lior1205', 1757, 'queenmaya1', 1609, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Nxe5,Qe7,d4,Bb4,f3,d5,exd5,Nxd5,Bd2,Nxc3,bxc3,Ba5,Be2,O-O,O-O,Re8,Bd3,c5,f4,cxd4,cxd4,Bxd2,Qxd2,Nd7,c3,b6,Be4,Ba6,Bxa8,Bxf1,Bd5,Nxe5,fxe5,Bb5,a4,Ba6,Be4,f6,Bd5+,Kh8,exf6,Qxf6,Re1,Rf8,Bf3,Bc4,d5,Qf5,Qd4,Bd3,Bg4', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/HdHVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HdHw0', 'Rapid', 'gjeunen', 1842, 'allech', 1782, 'e4,e5,Qh5,Nc6,Bc4,Qf6,Nc3,Nd4,Bb3,c6,d3,h6,Nf3,Nxf3+,Qxf3,Qg6,h4,Nf6,Nd1,d6,Ne3,Bd7,h5,Qh7,Rh4,O-O-O,g4,g5,hxg6,Qxg6,Nf5,Bxf5,Qxf5+,Qxf5,exf5,Rg8,Bxf7,Rxg4,Rxg4,Nxg4,Be6+,Kb8,Be3,Be7,O-O-O,Bg5,Bxg5,hxg5,f3,Nf2,Rg1,Nh3,Rg3,Rh8,f6', 'Nf4,Rxg5,Nxe6', 'https://lichess.org/training/HdHw0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hDj2l', 'Rapid', 'samuelLS', 1863, 'rodeo', 1950, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,h3,d6,c3,Na5,Bb3,Nxb3,axb3,Re8,Be3,Bf8,Nbd2,b6,Nh2,d5,exd5,Qxd5,Nc4,Bb7,f3,a5,Qd2,Rad8,d4,Ba6,Ng4,Nxg4,fxg4,Bxc4,bxc4,Qxc4,b3,Qxb3,Qf2,exd4,Bxd4,Qc4,Qf3,Re2,Ra4,Qe6,Kh1,Re8,Raa1,Qe4', 'Qxf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/hDj2l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HdKL5', 'Rapid', 'Mohammadkashi', 1744, 'khoshnood', 1759, 'e4,c5,Bc4,Nc6,Nf3,h6,Nc3,e5,d3,Na5,Bd5,Nf6,Nxe5,Nxd5,Nxd5,Nc6,Nc4,b5,Nce3,d6,O-O,g5,c4,bxc4,Nxc4,Be6,Qa4,Bd7,Qd1,Be6,Nce3,Bg7,Re1,Nd4,Nf5,Be5,Qa4+,Bd7,Qd1,Be6,g3,g4,Nxh6,Nf3+,Kf1,Nxe1,Kxe1,Bg7,Nxg4,Bxd5,exd5,Qe7+,Kf1,f5,Qa4+,Kf8,Qf4,Rh5,Bd2,Be5,Qf3,Bg7,Re1,Qf7,Ne3,Rxh2,Ke2,Re8,Kd1,Bxb2,a4,Bd4,Ke2,Bxe3,Bxe3,f4,gxf4,Qf6,Qg3,Qb2+,Kf1,Rxe3,Qxe3,Rh1+,Kg2,Qh8,Kf3', 'Rh3+,Kg2,Rxe3', 'https://lichess.org/training/HdKL5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdkqV', 'Blitz', 'Cavalaria_RN', 1571, 'Dan-Jon', 1536, 'e4,c5,Bc4,e6,Nc3,Nc6,d3,Nf6,Nf3,a6,Bg5,Be7,e5,Ng4,Bxe7,Qxe7,Qe2,b5,h3,Nh6,Bb3,O-O,O-O-O,Na5,g4,Nxb3+,cxb3,Bb7,g5,Nf5,h4,Nd4,Nxd4,Bxh1,Nc2,Bb7,f3,c4,dxc4,bxc4,bxc4,Rfc8,b3,a5,a4,Rab8,Nb5,Bc6,Ncd4,Bxb5,Nxb5,Qb4,Qd3,Rd8,h5,d5,exd6,Rb6,d7,Rb7,h6,g6,Qd4,Kf8,Qh8+,Ke7,Qf6+,Kf8,Qh8+,Ke7', 'Qf6+,Kf8,Qxd8#', 'https://lichess.org/training/hdkqV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdKus', 'Blitz', 'djm858', 1575, 'midgar', 1550, 'e4,c5,c3,e5,Nf3,d6,d4,f5,dxe5,fxe4,Ng5,d5,c4,Be7,Qh5+,g6,Qh4,h6,Nc3,Bxg5,Qg3,Be6,Bf4,dxc4,Rd1,Qe7,Nxe4,Bxf4,Qxg6+,Bf7,Nd6+,Kf8,Nxf7,Qxf7', 'Rd8+,Ke7,Qd6#', 'https://lichess.org/training/hdKus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdl3j', 'Rapid', 'MaksiM197', 1783, 'tinu123', 1766, 'e4,g6,f4,Bg7,Nf3,d5,exd5,Qxd5,Nc3,Qc6,d4,a6,Be2,Bf5,O-O,Nd7,b4,Ndf6,Bb2,Nh6,b5,axb5', 'Bxb5,O-O,Bxc6', 'https://lichess.org/training/hdl3j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HDLcR', 'Blitz', 'fariaseduv', 1953, 'batilpoako', 1993, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d6,e4,e5,Be2,O-O,Bg5,h6,Be3,Nbd7,Qd2,Ng4,h3,Nxe3,fxe3,Qe7,O-O-O,a5,Nd5,Qd8,g4,c6,Nc3,a4,h4,Nf6,g5,Ng4,dxe5,Nf2,exd6,Nxh1,Rxh1,h5,e5,a3,b3,Re8,Ne4,Bxe5,Nxe5,Rxe5,Nf6+,Kg7,d7,Bxd7,Nxd7,Re7,Qd4+,Kg8,Nf6+,Kf8,Qc5,Ra5,Nd7+,Ke8,Nf6+,Kf8,Qd4,Qxd4,exd4,Rxe2,Rd1,Rf5,d5,Kg7,d6,Rxa2,d7,Rff2,d8=Q,Rfc2+,Kb1,Rab2+,Ka1', 'Ra2+,Kb1,Rcb2+,Kc1,Ra1#', 'https://lichess.org/training/HDLcR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdLvw', 'Bullet', 'pityguly', 1626, 'zahradkar', 1543, 'Nf3,d5,c4,dxc4,Nc3,e6,e4,Bb4,Bxc4,Bxc3,bxc3,Nf6,e5,Ne4,d4,Nxc3,Qb3,Ne4,O-O,O-O,Re1,f5,exf6,Nxf6,Bxe6+,Bxe6,Qxe6+,Kh8,Bg5,Nc6,Bxf6,Qxf6,d5,Nd8,Qe4,c6,Rad1,cxd5,Rxd5,Nf7,Rd7,Nd6,Qb4,Nf5,Rxb7,Nh4,Nxh4', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/hdLvw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdnln', 'Rapid', 'Vedia123', 1771, 'kochi3', 1736, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Nfd2,Qxb2,e3,Qxa1,Bc4,Nxe5,Bxe5,Qxe5,O-O,Bd6,g3,b5,Nf3,Qc5,Bd5,Nf6,Bxa8,c6,Nd4,O-O,Nb3,Qh5,Qxd6,Ba6,Nc5,Ne8,Qd4,Nc7,Nxa6,Nxa6,Qxa7,Nb4,c3,Nd5,Bb7,Qe5,Qd4,Qc7,e4,Nb6,Ba6,Qa7,Bxb5,cxb5,a3,Qc7,Nd2,Na4,c4,bxc4,Nxc4,Nc5,Rc1', 'Nb3,Qb6,Qxb6,Nxb6,Nxc1', 'https://lichess.org/training/hdnln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HdNWc', 'Rapid', 'Shimray', 1822, 'Autzenfan', 1804, 'e4,c5,Bc4,e6,e5,d5,exd6,Bxd6,d3,Nc6,Nf3,Nge7,c3,O-O,O-O,a6,a3,b5,Bb3,Bb7,Nbd2,Ng6,Bc2,Nce5,Nxe5,Nxe5,d4,cxd4,cxd4,Qg5,Be4,Nc6,Nf3,Qe7,b4,f5,Bxc6,Bxc6,Qd3,Be4,Qe3,Rac8,Ne5,Rf6,f3,f4,Qxe4,Bxe5,dxe5,Rf5,Bxf4,Rc4,Qe3,Rcxf4,Rac1,Kf7,Qb6,Qg5,Rc7+,Kg6,Qxe6+,Kh5,Qe8+,Kh6,Rc6+,g6,Rc3,Rxe5,Qh8,Re2,g3,Rc4,Qf8+,Kh5,Rxc4,Qe3+,Kh1,bxc4,g4+,Kg5,f4+,Kxg4,Rg1+,Kh5', 'Rg5+,Kh4,Qh6#', 'https://lichess.org/training/HdNWc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HDO3v', 'Rapid', 'CrisanMihai7', 1893, 'OeilDeFaucon', 1899, 'e4,e5,Nf3,Nc6,Nc3,Nf6,a3,Be7,Bc4,d6,h3,Be6,Bxe6,fxe6,d3,Qd7,Be3,d5,exd5,exd5,Bg5,O-O-O,Qd2,h6,Bxf6,Bxf6,O-O-O,e4,dxe4,d4,Nd5,Rhf8,Nxf6,Rxf6,e5,Re6,Rhe1,Qd5,Qf4,Qa2,Qf5,Kb8,Rd3,Qd5,b3,Qa5,Kb2,Ree8,Red1,Nxe5,Rxd4,Rxd4,Rxd4', 'Nc4+,Rxc4,Qxf5', 'https://lichess.org/training/HDO3v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HDoLJ', 'Blitz', 'GM Lugovskoy_Maxim', 2423, 'god_savitar', 2649, 'e4,c5,Nf3,d6,Bb5+,Nd7,d4,cxd4,Qxd4,a6,Bxd7+,Bxd7,c4,e5,Qd3,h6,Nc3,Nf6,O-O,Be7,Rd1,O-O,b3,Qa5,Bd2,Qa3,Bc1,Qa5,a4,b5,Bd2,bxc4,bxc4,Qc5,Be3,Qa5,c5,dxc5,Nxe5,Be6,Nc6,Qc7,Nxe7+,Qxe7,Nd5,Bxd5,exd5,Qd6,Qc4,Nd7,Rac1,Rac8,Bf4,Qb6,d6,Rfe8,h3,Qc6,a5', 'Re4,Qxe4,Qxe4', 'https://lichess.org/training/HDoLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdorg', 'Blitz', 'hasansalem', 1792, 'klocraft', 1819, 'd4,g6,Nf3,Bg7,c4,e6,Nc3,Ne7,h3,O-O,Bf4,d6,e3,Nd7,Be2,b6,O-O,Bb7,a3,e5,dxe5,dxe5,Bh2,Nc5,b4,Nd7,Ra2,Re8,Rd2,Bc8,Nxe5,Bxe5,Bxe5,Nf5,Bh2,Qe7,Nd5,Qd8,Nxc7,Rb8,Nxe8,Qxe8,Bxb8,Bb7,Bxa7,Nxe3,fxe3,Qxe3+,Kh1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/hdorg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hdp6f', 'Blitz', 'mohammedarrami', 2043, 'najafihamed', 2062, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,O-O,Be7,f4,Qc7,Nd2,O-O,f5,Bd7,Nf3,Bc6,Bd3,Nbd7,Bg5,b5,a3,Nc5,Qe1,Qb6,Kh1,b4,axb4,Qxb4,Nd5,Bxd5,Qxb4,Bxe4,Bxe4,Ncxe4,Nxe5,Nxg5,Nc6,Rfe8,Rae1,Bf8,Rxe8,Rxe8,Re1,Nge4,h3,d5,Qa5,Bd6,g4,h6,Kg2,Rc8,Nd4,Rc4,Qd8+,Kh7,c3,Be5,h4,Bxd4,cxd4,Rc2+,Kf3', 'Rf2+,Ke3,Nxg4+,Kd3,Rd2#', 'https://lichess.org/training/Hdp6f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HDPuh', 'Classical', 'bayelimarbekow', 1739, 'jayvastani', 1785, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,O-O,Bc5,d3,d6,h4,O-O,g3,Nd4,Nxd4,Bxd4,Nd5,Be6,Kg2,c6,Nxf6+,Qxf6,Bxe6,fxe6,f4,exf4,Bxf4,e5,Be3', 'Qxf1+,Qxf1,Rxf1,Rxf1,Bxe3', 'https://lichess.org/training/HDPuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdQ1S', 'Rapid', 'Arremate', 2102, 'hccprofessor', 1886, 'c4,e6,Nc3,Nf6,g3,Be7,Bg2,O-O,d4,d6,e4,Nbd7,Nge2,c5,O-O,Rb8,Be3,b6,f3,Bb7,Qd2,a6,Rad1,Qc7,b3,Rbd8,d5,e5,h3,Rfe8,Kh2,Kh8,f4,Ng8,fxe5,Nxe5,Bf4,Bf6,g4,Qe7,Rf2,Ng6,Bg3,Be5,Rdf1,Bxg3+,Nxg3,Ne5,Nf5,Qd7,Ne2,Rf8,Nf4,Ne7,Nh5,g6,Qh6,Nxf5,Rxf5,gxh5,Rxh5,f6,Rxf6,Rxf6,Qxf6+,Kg8,Rg5+,Ng6,e5,dxe5,Be4,Rf8,Rxg6+', 'hxg6,Qxg6+,Qg7', 'https://lichess.org/training/hdQ1S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdqgu', 'Blitz', 'EventHorizonNeptune', 2434, 'FM sandi_s', 2376, 'd4,d6,e4,Nf6,f3,g6,Be3,Bg7,c4,O-O,Nc3,e5,Nge2,exd4,Nxd4,Nc6,Qd2,Nxd4,Bxd4,b6,Be2,Bb7,O-O,Re8,Rac1,c6,Rfd1,Qe7,b4,Rad8,b5,c5,Be3,d5,cxd5,Nxd5,Nxd5,Bxd5,Bg5,Bd4+,Kh1,f6,Bh4,Bxe4,fxe4,Qxe4,Bc4+,Kg7,Bf2', 'Bxf2,Qxd8,Rxd8', 'https://lichess.org/training/hdqgu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hDqwj', 'Blitz', 'PRemZi', 1553, 'Igor55555', 1510, 'e4,b6,d4,Bb7,Nd2,e6,Ne2,Nf6,e5,Ne4,Nxe4,Bxe4,Bf4,Nc6,Qd2,f6,O-O-O,a5,Nc3,Bf5,Bb5,Nb4,Bd3,c6,Bxf5,exf5,h4,Be7,exf6,Bxf6,a3,Na6,Qe2+,Kf7,Qc4+,d5,Qxc6,Rc8,Qb7+,Nc7,Qxb6,Qd7,Qxa5,Bd8,Bxc7,Rxc7,Qxd5+,Qxd5,Nxd5,Rd7,Nf4,Bc7,g3,Rhd8,Ne2,Ba5,f4,Rc8,b4,Bb6,Rd2,Rc4,h5,Re7,Kd1,Re3,Rd3,Re8,d5,Rce4,Nc3,Rc4,d6,Rd8,d7,Rd4,Nd5,Rxd3+,cxd3,Bf2,Rf1,Bxg3,Nb6,Rb8,d4,Ke7,Rf3,Bh4,Nd5+,Kxd7,Ke2,Kd6,Ne3,Re8,b5,Bf6,Kd3,Kc7,Nxf5,Kb6,Kc4,Rc8+,Kb4,Rc1,a4,Rb1+,Kc4,Ra1,Kb3,Rb1+,Ka2,Rh1,d5,Rxh5,Ne3,Be7,f5,Kc5,Rg3,Bf6,Rg2,Rh3,Rc2+,Kb4,Ng4', 'Ra3+,Kb1,Ra1#', 'https://lichess.org/training/hDqwj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hDRfr', 'Blitz', 'kapadamas', 1836, 'AndySaffle', 1851, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Nc6,h3,e6,a3,Bd6,Nc3,h6,O-O,O-O,Ne2,b6,Bf4,Bxf4,Nxf4,Qc7,Qd2,Bb7,c3,Rac8,Rac1,Qd6,Rfe1,Na5,Bc2,Nc4,Qe2,Qxf4,Bb1,Ne4,Qd3,Nxb2,Qc2,Nc4,Ne5,Ncd2,Rxe4,Nxe4,f3,Qe3+,Kh1,Nf6,Nd7,Rxc3', 'Nxf6+,gxf6,Qh7#', 'https://lichess.org/training/hDRfr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HDRwS', 'Blitz', 'AI-84-ios', 2070, 'ctm_sacrificer', 1890, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,Nf3,cxd4,Nxd4,Nc6,Be3,Ng4,Qe4,Nxe3,Qxe3,Bc5,Ncb5,a6,Nxc6,Bxe3', 'Nd6+,Kf8,Nxd8', 'https://lichess.org/training/HDRwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hDssN', 'Blitz', 'dfcbkmtdbx60', 1999, 'PpoCtomat', 1988, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Nf3,c5,d5,e6,Be2,exd5,exd5,Re8,O-O,Bf5,Bd3,Bxd3,Qxd3,Nbd7,Bf4,Nh5,Bh2,Ne5,Nxe5,dxe5,Ne4,b6,Rad1,f5,Nc3,e4,Qc2,e3,fxe3,Rxe3,Nb5,a6,Nc7,Bd4,Kh1,Qh4,Nxa8,Rxh3,Rxd4,Ng3+,Kg1,Qxd4+,Qf2,Rxh2,Kxh2', 'Qh4+,Kg1,Qh1#', 'https://lichess.org/training/hDssN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdtzO', 'Rapid', 'Leha80', 1983, 'Umesh20121991', 2050, 'e4,d5,exd5,Nf6,d4,c6,dxc6,Nxc6,c3,e5,Nf3,exd4,cxd4,Bg4,Bb5,Bb4+,Bd2,Qe7+,Qe2,Qxe2+,Kxe2,Bxd2,Nxd2,O-O,Bxc6,bxc6,Rac1,Rac8,Rc5,Rfe8+,Kd3,Nd7,Ra5,Rc7,h3,Be6,Re1,Rd8,Ne4,c5,b3,Bf5,g4,Bg6,Nh4,cxd4,Nxg6,hxg6,g5,Re8,f4,f5,gxf6,gxf6,Rg1,Kh7,Kxd4,Kg7,f5,Ne5,Ke3,Rd8,fxg6', 'Rd3+,Kf2,Rc2+', 'https://lichess.org/training/hdtzO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HdUqZ', 'Rapid', 'valdo777', 1920, 'Little_Master99', 1999, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e6,Be3,Be7,Qd2,d5,O-O-O,e5,Nf5,Bxf5,exf5,d4,Qe1,Qc7,Qg3,dxe3,Qxg7,Rg8,Qh6,Nc6,Qxe3,Rd8,Rxd8+,Kxd8,Bc4,Rxg2,Bxf7,Nd4,Bb3,Nd7,Rg1,Bg5,Qxg5+,Rxg5,Rxg5,Nxb3+,axb3,Nf6,Ne4,Qe7,Nc3,e4,fxe4,Nxe4,Rg8+,Kd7,Nd5,Qh4,Rg1,Qxh2,Rd1,Ke8,Kb1,h5,Re1,Qe5', 'Rxe4,Qxe4,Nf6+,Ke7,Nxe4', 'https://lichess.org/training/HdUqZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HDuyK', 'Rapid', 'doomers', 2074, 'davoglio007', 2015, 'c4,c5,Nc3,Nc6,Nf3,Nf6,e3,e5,d4,exd4,exd4,Nxd4,Nxd4,cxd4,Qxd4,Be7,Bf4,O-O,Bd3,b6,O-O,Bc5,Qe5,d6,Qg5,Bb7,Qh4,h6,Rad1,d5,cxd5,Nxd5,Qg3,Qf6,Be5,Qg5,Qxg5,hxg5,Be4', 'Nxc3,Bxc3,Bxe4', 'https://lichess.org/training/HDuyK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HdVvy', 'Classical', 'gomer1377', 1929, 'sta20', 1807, 'e4,e6,e5,d5,d4,c5,c3,Bd7,Nf3,Qb6,Bd3,Bb5,O-O,Bxd3,Qxd3,Nc6,a3,Nge7,dxc5,Qxc5,b4,Qb6,Be3,Qc7,Nd4,a6,f4,Nxd4,cxd4,Nf5,Bf2,Rc8,Nd2,Be7,Nb3,O-O,Rac1,Qb8,Nc5,Rc7,Rc2,Rfc8,Rfc1,Bxc5,dxc5,Ne7,Bh4,Nc6,Bf2,Rd7,b5,axb5,Qxb5,Qa7,a4,Qa5,Be1,Qd8,a5,Nd4,Qb6,Qxb6,axb6,Nxc2,Rxc2,Rc6,Bb4,Rd8,Ra2,f6,Kf2,Kf7,Ke3,Kg6,exf6,gxf6,Kd4,Kf5,g3,Rcc8,Ra7,Rd7,h3,h5,Be1,e5+,fxe5,fxe5+,Kd3,Rxc5,Bd2,Rb5,Ra8,Rxb6,Rh8,Kg6', 'Rh6+,Kf7,Rxb6', 'https://lichess.org/training/HdVvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HdY24', 'Blitz', 'amirreza138399', 1688, 'vikashdo', 1655, 'e4,e5,Nf3,Nc6,d4,d5,dxe5,d4,Bb5,Bb4+,c3,Ba5,Bxc6+,bxc6,Qxd4,Qxd4,Nxd4,c5,Nb5,Bb6,a4,a6,N5a3,a5,O-O,Ne7,Be3,O-O,Nb5,Nc6,f4,f6,exf6,Rxf6,Nd2,Ba6,c4,Nb4,e5,Rf5,g4,Rf7,b3,Re7,Ne4,Bc8,h3,Nd3,Rfd1,Nxe5,fxe5,Rxe5,Bxc5,Rxe4,Bxb6,cxb6,Nd6,Re3,Nxc8,Rxc8,Rab1,Rxh3,Rd6,Rg3+,Kh2,Rxg4,Rxb6,Rf8,Rb5,Rf6,Rxa5', 'Rh6+,Rh5,Rxh5#', 'https://lichess.org/training/HdY24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hDyMv', 'Rapid', 'cyril974', 1653, 'roidumat', 1985, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Bd3,c5,dxc5,Bxc5,cxd5,exd5,Nf3,Nc6,O-O,Bg4,h3,Bh5,g4,Bg6,Bxg6,hxg6,Nxd5', 'Qxd5,Bxf6,Qxd1,Rfxd1,gxf6', 'https://lichess.org/training/hDyMv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HDYup', 'Rapid', 'tozkoparan', 1961, 'Adarka', 1977, 'h3,d5,a3,e5,g3,Nf6,b4,c6,e3,Bd6,c3,O-O,Ne2,Be6,f3,Nbd7,Bg2,h6,d4,exd4,cxd4,Nh5,f4,g5,g4,Ng7,f5,Nxf5,gxf5,Bxf5,Nd2,Kh7,Nf3,Bg6,O-O,f5,Nh2,Nf6,Kh1,Ne4,Nf3,Qc7,Bd2,Rae8,Be1,b6,Rc1,g4,Nh4,g3,Nxg6,Kxg6,Nf4+,Kh7,Bxe4,dxe4,Bxg3,Rg8,Nd5,Rxg3,Nxc7', 'Rxh3+,Kg1,Rg8+', 'https://lichess.org/training/HDYup');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HdzuD', 'Rapid', 'Harleyluia', 1668, 'jh000', 1699, 'e4,c5,Nf3,Nc6,c3,e5,Bc4,Be7,d3,Nf6,Bg5,O-O,Bh4,d6,Bd5,Nxd5,Bxe7,Ndxe7,O-O,Bg4,Re1,b5,h3,Bxf3,Qxf3,Ng6,Nd2,a5,a3,b4,axb4,axb4,Rxa8,Qxa8,Rb1,bxc3,bxc3,Qa2,Qd1,h6,Nc4,Rd8', 'Ra1,Qxa1,Qxa1', 'https://lichess.org/training/HdzuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HDZUn', 'Rapid', 'gobarr', 1629, 'jerryzor', 1624, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,Bc5,Be2,Qf6,Nf3,Nd4,O-O,Nxf3+,Bxf3,Ne7,Nc3,O-O,Qd3,d6,Be3,Bxe3,Qxe3,b6,Rfe1,Bb7', 'e5,dxe5,Bxb7', 'https://lichess.org/training/HDZUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hdzVa', 'Blitz', 'tkr1959', 1927, 'howpity', 1818, 'c4,g6,Nc3,Bg7,d4,e6,Nf3,Ne7,e4,O-O,Bd3,c6,O-O,d5,e5,b6,cxd5,exd5,Bg5,Bg4,Qd2,Bxf3,gxf3,f6,Bh6,fxe5,Bxg7,Kxg7,dxe5,Rxf3,Kg2,Rf8,Rg1,Qd7,Qg5,Nf5,f4,c5,Raf1,d4,Ne4,Nc6,Rf3,Rae8,Rh3,Ne3+,Kg3,Nf5+,Kf3,Nxe5+,fxe5,Nh4+,Kg3', 'Rf3+,Kxh4,Qxh3#', 'https://lichess.org/training/hdzVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('he0n5', 'Classical', 'MIMmojtaba', 1905, 'sta20', 1940, 'd4,Nf6,Nc3,e6,e4,d5,e5,Nfd7,a3,c5,Nf3,Nc6,Be3,cxd4,Bxd4,Nxd4,Qxd4,Bc5,Qg4,g6,Bd3,Bf8,h4,Bg7,Bb5,a6,Bxd7+,Bxd7,h5,Qb6,O-O-O,Qxf2,hxg6,hxg6,Rhe1,b5,Rd2,Bh6,Kd1,Bxd2,Nxd2,Qf5,Qd4,Rc8,Rf1,Qg5,Qf2,Rh7,Nf3,Qf5,Qd4,Rc4,Qa7,d4,Nd2,Qg4+,Ne2,Rc8,Qxd4,Qxg2,Qf4,Qc6,Nd4,Qd5,c3,Qa2,Ne4,Qxb2,Nd6+,Kd8,Qf6+,Kc7,Nxc8,Qb1+,Kd2,Rh2+,Rf2,Qb2+,Nc2,Rxf2+,Qxf2,Kxc8,Qc5+,Kd8,Qb6+,Ke7,Qxa6,Qa2,Qd6+,Ke8,Qb8+,Ke7,Qxb5,Qd5+,Qxd5,exd5,Ke3,Ke6,Kd4,Ba4,Ne3,Bb3,Ng4,Kf5,Nf6,g5,Nxd5', 'Bxd5,Kxd5,g4', 'https://lichess.org/training/he0n5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('He1wW', 'Rapid', 'jarben', 1862, 'romeoalphazulu', 1853, 'd4,d5,c4,Nf6,e3,c6,Nc3,e6,Nf3,Be7,Bd3,O-O,O-O,Nbd7,a3,Bd6,c5,Bc7,b4,e5,dxe5,Nxe5,Be2,Bg4,Bb2,Qe7,h3,Bxf3,Bxf3,Nxf3+,Qxf3,Qe5,g3,Qg5,h4,Qg6,Ne2,Bd8,Nf4,Qh6,Rad1,Ne4,Bd4,Re8,Nd3,Qg6,Ne5,Rxe5,Bxe5,Bxh4,Kg2,f6,Bd4,Bg5,Rh1,Bh6,Rh4,Ng5,Qg4,Qf7,f4,Qg6,fxg5,Bxg5,Qe6+,Kh8,Rh3', 'Qc2+,Kg1,Qxd1+', 'https://lichess.org/training/He1wW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('He2XK', 'Blitz', 'Antahk', 2136, 'MaitreYogurt2', 2157, 'e4,c5,Nf3,Nc6,e5,g6,Bb5,Bg7,Bxc6,dxc6,O-O,Bf5,Re1,e6,c4,Ne7,Nc3,O-O,d4,cxd4,Nxd4,a6,Nxf5,Nxf5,Bf4,Qh4,g3,Qe7,Ne4,Rad8,Qb3,Rd4,Nd6,g5,Nxf5,exf5,Be3,Re4,f4,gxf4,gxf4,Qh4,Re2,Rd8,Rf1,Kh8,Rf3,Qg4+,Kf2,Rg8,Rg3,Qh4,Kg2,Bh6,Qxb7', 'Bxf4,Rxg8+,Kxg8,Qc8+,Kg7', 'https://lichess.org/training/He2XK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('He3W0', 'Classical', 'DrAjitLunavia', 1789, 'hovaaa', 1658, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Nd4,Nxe5,Nxb5,Nxb5,Nxe4,O-O,a6,Nd4,Bc5,Nb3,Nxf2,Rxf2,Bd4,Nxd4,O-O,Qg4,d6,Nf5,g6,Nh6+,Kg7,Rxf7+,Rxf7,Nexf7,Bxg4,Nxd8,Kxh6,d3+,Kg7,Nxb7,Re8,Bf4,Re2,Rc1,Be6,a3,Bd5,Nxd6,cxd6,Bxd6,Rxg2+,Kf1,Rd2,Ke1,Rg2,Kf1,h5,Re1,Rxc2,Re3,Rxb2', 'Be5+,Kf7,Bxb2', 'https://lichess.org/training/He3W0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HE3WC', 'Rapid', 'YuFeiyin', 1623, 'Conquisto__tu__Elo', 1856, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,a3,d6,Nc3,Bg4,h3,Bh5,g4,Bg6,Nd5,Nxd5,Bxd5,Be7,h4,Bh7,g5,h5,c3,g6,Qb3,Kd7,Bxf7,Kc8,Be6+,Kb8,Bd5,Bg8,c4,Bxd5,cxd5,Nd4,Nxd4,exd4,Qc4,Rf8,Qxd4,Qd7,b4,Qg4,Be3,Qf3,Kd2,a5,b5,a4,b6,cxb6,Qxb6,Ra6,Qb5,Bd8,Rab1', 'Ba5+,Qxa5,Rxa5', 'https://lichess.org/training/HE3WC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HE4r3', 'Rapid', 'dolchmesser', 1652, 'Daciel', 1646, 'e4,c5,Nf3,d6,d3,Nc6,Nbd2,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,Re1,Bg4,h3,Bxf3,Nxf3,e6,Be3,Qb6,Qd2,d5,e5,Nd7,Bh6,Qxb2,Bxg7,Kxg7,Rab1,Qxa2', 'Ra1,Qb2,Reb1,Qb6,Rxb6', 'https://lichess.org/training/HE4r3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HE57R', 'Rapid', 'PalenieZabija', 1628, 'campe100', 1614, 'e4,c5,Bc4,d6,c3,g6,d4,cxd4,cxd4,Bg7,Nf3,Nf6,Nc3,O-O,O-O,Nc6,Bg5,Bd7,a3,e5,dxe5,dxe5,Nd5,Rc8,Nxf6+,Bxf6,Bxf6,Qxf6,h4,Rfd8,Qb3,Be6,Bxe6,fxe6,Ng5,Nd4,Qxb7,Qf4,Qxh7+,Kf8,Qh8+,Ke7,Qg7+,Kd6,Nf7+,Kc5,Nxd8', 'Ne2+,Kh1,Qxh4#', 'https://lichess.org/training/HE57R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('He6to', 'Rapid', 'bumpywater', 1971, 'bjaddni', 1894, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,d6,Bb5,f5,exf5,Bxf5,Qe2+,Ne7,Nf3,Bd7,O-O,Nb4,Bxd7+,Qxd7,a3,Nd5,Nbd2,Qg4,h3,Qg6,Ne4,O-O-O,c4,Nf6,Nh4', 'Qxe4,Qxe4,Nxe4', 'https://lichess.org/training/He6to');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('He7Ta', 'Rapid', 'justheretolearn', 1885, 'telesfor31', 1888, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Ne7,d4,Bd7,d5,Nb4,Bxd7+,Qxd7,a3,Na6,Be3,c6,Nc3,cxd5,Nxd5,Nxd5,exd5,Be7,c4,b6,b4,O-O,Bg5,f6,Be3,Rac8,Rc1,Rf7,Qb3,Rcf8,b5,Nc5,Bxc5,bxc5,a4,Bd8,Ra1,Qb7,a5,a6,b6,Be7,Qa4,Rc8,Nd2,f5,f4,e4,Qb3,Bf6,Ra2,Bd4+,Kh1,e3,Nf3,Re8,Nxd4,cxd4,Re1,Re4,Qd3,Rxf4,g3,Re4,Rf1,g6,Rf4,Rfe7,Re2,Rxf4,gxf4,Re4,Qc2,Rxf4,c5,dxc5,Qxc5,d3,Rxe3,d2', 'Re8+,Kf7,Qf8#', 'https://lichess.org/training/He7Ta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('he9da', 'Rapid', 'bazaconstant', 1802, 'torpeche', 1816, 'e4,d6,d4,g6,Nf3,Bg7,Be2,Nd7,O-O,c5,c3,cxd4,cxd4,a6,Bc4,b5,Bb3,e6,d5,Ngf6,dxe6,fxe6,Bxe6,Nc5,Bd5,Bb7,Bg5,h6,Bxf6,Bxf6,Nc3,Bxd5,Qxd5,Qe7,Qxa8+,Kf7,Qd5+,Kg7,Rad1,Ne6,Qxd6,Qf7,Nd5,Rd8,Qc6,Bxb2,e5,g5,Rd2,g4,Rxb2,gxf3,g3,Qf5,Qb7+,Kh8,Ne7,Qh5,Rb3,Nd4,Qc7,Rf8,Qd6,Qh3,Ng6+,Kg7,Qxf8+,Kxg6,Qf6+,Kh7,Qe7+,Kg6,Qe8+,Kh7,Qf7+,Kh8,Qf8+,Kh7,Rxf3', 'Ne2+,Kh1,Qxf1#', 'https://lichess.org/training/he9da');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('heaXx', 'Rapid', 'Thranduill', 1615, 'Dave1-808', 1607, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Be7,c3,d5,Bb5,Bd7,Re1,c4,d4,a6,Bxc6,Bxc6,e5,Nh6,Bxh6,gxh6,Qd2,Bg5,Nxg5,Qxg5,Qxg5,hxg5,b3,O-O-O,bxc4,dxc4,Na3,b5,Nc2,a5,g3,b4,cxb4,axb4,Nxb4,Kb7,Rec1,Rxd4,Rd1,Rhd8,Rxd4,Rxd4,Nc2,Rd2,Ne3,c3,Rc1,Kb6', 'Nc4+,Kb5,Nxd2,cxd2,Rd1,Kc4,Rxd2', 'https://lichess.org/training/heaXx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hEbpq', 'Classical', 'pjsw92', 1875, 'VinodMittal', 1894, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,h3,Nf6,d3,Nd7,Be3,O-O,Nbd2,b5,Nh2,f5,f4,exf4,Bxf4,Bc5+,Kh1,fxe4,Nxe4,Nf6,Nxc5,Qd5,Ne4,Nxe4,dxe4,Qxe4,Bxc7,Bxh3,Nf3,Bg4,Qd3,Bxf3,Rxf3,Qxd3,Rxf8+,Rxf8,cxd3,Rf2,b3,Rd2,Rc1,Rxa2,Rxc6,Ra3,d4,a5,b4,axb4,Bd6', 'Ra1+,Kh2,b3,Rc5,b2', 'https://lichess.org/training/hEbpq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HEbTd', 'Classical', 'dinosavr82', 1819, 'Pedrinhoarango', 1883, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Bf5,Nf3,Nf6,Bb5+,c6,Bd3,Bxd3,Qxd3,Nbd7,O-O,e6,Bg5,Bd6,Rfe1,O-O,a3,Rac8,b4,Qc7,Ne4,Nxe4,Qxe4,a5,c4,Rfe8,c5,Be7,Bf4,Qd8,g3,Nf6,Qd3,b6,Ng5,bxc5,bxc5,h6,Ne4,Nxe4,Qxe4,Bf6,Bd6,a4,Rab1,Qa5,Rb4,Bg5,f4,Bf6,Reb1,Be7,Qe5,Bxd6,Qxd6,Qa6,Rb6,Qd3,Rb8,Kh7,R8b7,Red8,Qe5,Rxd4,R1b4,Qd1+,Kg2,Rd2+,Kh3,f6,Rxg7+,Kxg7,Rb7+,Kg6,Qe4+,f5', 'Qxe6+,Kh5,Qxf5#', 'https://lichess.org/training/HEbTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HeCc6', 'Rapid', 'Castillo007', 2077, 'yunker', 1959, 'c4,d5,Nf3,Nf6,g3,dxc4,Bg2,c6,O-O,Be6,a4,Nbd7,Na3,Bd5,Qc2,e5,Nxc4,Be7,d3,O-O,Ne3,Bd6,Nxd5,cxd5,e4,Rc8,Qe2,d4,Ng5,h6,Nh3,Qc7,f4,Qc2,Qf3,Nc5,fxe5,Bxe5,Nf4,Bxf4,Bxf4,Nxd3,Bxh6,Ne5,Qf5,Nfg4,Bf4,Ne3', 'Bxe3,dxe3,Qxe5', 'https://lichess.org/training/HeCc6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hEFl1', 'Rapid', 'pi9_r61', 1976, 'PricklyPear', 1967, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,Bd7,Bc2,Nh6,O-O,Nf5,Bxf5,exf5,b3,cxd4,cxd4,Bb4,a3,Be7,h4,O-O,g3,Rac8,Be3,Na5,Nbd2,Bb5,Re1,Ba6,Kg2,Rc3,b4,Nc4,Nxc4,Rxc4,Qb1,g6,Bh6,Rfc8,Be3,Rc3,h5,Bd3,Qd1,Be4,Kh2,Rd3,Qe2,Rcc3,hxg6,hxg6,Nd2,Rxa3,Nxe4,dxe4,Rxa3,Rxa3,d5,Qxb4,d6,Bd8,Rc1,Qa5,Rc8,Kg7,Bxa7,Qxe5,Rxd8,Rxa7,f4,Qf6,Rc8,Qxd6,Qb2+,Qf6', 'Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/hEFl1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HEfMs', 'Rapid', 'Rachyy', 1836, 'tiopopo', 1878, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Bg4,Be2,Nf6,Bg5', 'Bxf3,Bxf3,Qxg5', 'https://lichess.org/training/HEfMs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HeFMt', 'Rapid', 'xaviar', 1624, 'Redboa', 1621, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Be3,Nge7,Nf3,Nxe5,dxe5,Bxb5,Bxc5,Ng6,Bxf8,Nxf8,Nd4,Bd7,Nd2,Ng6,N4f3,O-O,O-O,a5,Qb3,b5,Nd4,Rb8,N2f3,Nf4,Rfd1,b4,cxb4,Rxb4,Qc3,Qb6,b3,Rc8,Qe3,Ng6,Rac1,Ne7,Rxc8+,Nxc8,h4,h6,g4,Ne7,h5,Qb7,Nh4,a4,g5,Nf5,Nhxf5,exf5,gxh6,gxh6,Qxh6,Rb6,Qg5+,Kf8,h6', 'Rg6,Qxg6,fxg6', 'https://lichess.org/training/HeFMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HeFOD', 'Classical', 'holgerloehr', 1966, 'toranj1398', 1946, 'c4,e5,Nc3,Nf6,g3,Bb4,Qb3,Bxc3,Qxc3,Nc6,d3,d5,Bg2,dxc4,Qxc4,O-O,Nf3,Be6,Qc3,e4,Ng5,exd3,Nxe6,fxe6,exd3,Ng4,O-O,Qd4,Qxd4,Nxd4,Bxb7,Rab8,Be4,Ne2+,Kg2,Nxc1,Raxc1,Rxb2,Rxc7,Rxa2,Bf3', 'Ne3+,Kg1,Nxf1', 'https://lichess.org/training/HeFOD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HEgsw', 'Blitz', 'FM DailyInsanity', 2551, 'danikahouse', 2481, 'e4,c5,d4,cxd4,c3,e5,Nf3,Nc6,Bc4,Bc5,b4,Bb6,Qb3,Qe7,a4,dxc3,Ba3,Nd4,Nxd4,exd4,O-O,Nh6,a5,Bc7,b5,Qh4,h3,Qf4,g3,Qf3,Bd5,Be5,Nd2,Qh5,Nc4,d3,Bd6,Bxd6,Nxd6+,Kd8,Qxc3,Qxh3,Qxg7,Ng4,Nxf7+,Kc7,Rfc1+,Kb8,Qxg4,Qxg4,Nd6,d2,Rd1,Qg7,Nf5,Qc3,Ra2,d6,Raxd2,Bxf5,exf5,Rf8,Be6,Qxa5,Rxd6,a6', 'b6,Qxb6,Rxb6', 'https://lichess.org/training/HEgsw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HeinS', 'Rapid', 'McNulty', 2343, 'everman555', 2149, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,O-O,O-O,d5,exd5,cxd5,Bg5,c6,Qf3,Bd6,Rae1,Rb8,b3,Bb4,Qg3,Bd7,Qh4,h5,Bd2,Qa5,Re3,Bxc3', 'Bxc3,Qxc3,Bh7+,Kxh7,Rxc3', 'https://lichess.org/training/HeinS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('heiPM', 'Rapid', 'BulatVasilev', 2008, 'DoubleTDubs10', 2053, 'e4,Nf6,e5,Nd5,Nf3,d6,d4,dxe5,dxe5,g6,Bc4,Nb6', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/heiPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hekaw', 'Rapid', 'BadChessByMe', 2155, 'Junkie900', 2049, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nc6,Be3,e5,Nxc6,bxc6,Bd3,h6,O-O,Nf6,Qf3,Bg4,Qg3,Qd7,Rfe1', 'Nh5,f3,Nxg3', 'https://lichess.org/training/hekaw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hEkFd', 'Blitz', 'GM AndreyBelozerov', 2584, 'VENADORECARGADO', 2345, 'e4,b6,d4,Bb7,Bd3,c5,d5,g6,c4,Bg7,Nc3,d6,f4,Nd7,Nf3,a6,O-O,Qc7,a4,Ngf6,h3,O-O,Be3,Rae8,f5,e6,Qd2,exd5,exd5,Nh5,Rfe1,Ne5,Nxe5,Bxe5,g4,Ng7,Bh6,Bc8,Rf1,Bd4+,Kh1,Qe7,Bg5,f6,Bh6,g5,Rae1,Qf7,Re6,Be5,Ne4,Nxe6,fxe6,Qb7,Qf2,b5,Nxg5,bxc4,Bxh7+,Kh8,Be4,Qxb2,Bc2,fxg5', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/hEkFd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HEKGF', 'Rapid', 'jaramirocp', 1854, 'Surikoff_A', 1824, 'd4,d5,e3,e6,Nf3,a6,a3,c5,dxc5,Bxc5,b4,Bd6,Bb2,Nf6,c4,dxc4,Bxc4,Nc6,O-O,O-O,Nc3,b5,Bb3,Bb7,Rc1,Rc8,Nd4,Nxd4,Qxd4,Re8,Rfd1,Be7,Qa7,Qc7,Nxb5,Qb8,Rxc8,Rxc8,Qxb8,Rxb8,Nd4,Nd5,Bxd5,Bxd5,Rc1,a5,Rc7,Bf6,Bc3,axb4,Bxb4,h6,f3,Be5,Nc6', 'Bxc7,Nxb8,Bxb8', 'https://lichess.org/training/HEKGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HEMVl', 'Classical', 'epifanioclaudioluiz', 1764, 'Ambroagem', 1851, 'e4,e6,d4,c6,Nf3,Be7,Be2,d5,Nc3,Bb4,e5,h6,a3,Ba5,b4,Bb6,Na4,Bc7,O-O,b6,c4,Ne7,c5,b5,Nb2,a5,Bd2,axb4,axb4,Rxa1,Qxa1,Nd7,Nd3,O-O,Qb2,Ng6,Ra1,Re8,h3,Ndf8,Nf4,Nxf4,Bxf4,g5,Bd2,f6,Qc2,fxe5,dxe5,d4,Bd3,Qd5,Be4,Qc4,Qxc4,bxc4,Bxc6,Re7,Nxd4,Bxe5,Bc3,Ng6,g3,h5,Ra8,Rc7,Bb5,Kh7,Bxc4,Bb7,Ra3,Rd7,Nxe6,Rd1+,Bf1,Bxc3,Rxc3,Ba6,Nxg5+,Kh8,c6,Rxf1+,Kh2,Rxf2+,Kg1,Rb2,c7,Bc8,Rc4,Ne7,Re4,Rb1+,Kh2,Rb2+,Kg1,Rb1+,Kf2,Rb2+,Ke1,Ng8,h4,Rb1+,Kd2,Rb2+,Kc3,Rb1,Nf7+,Kg7,Nd6,Rc1+,Kd4,Rxc7', 'Ne8+,Kf8,Nxc7', 'https://lichess.org/training/HEMVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('henGA', 'Blitz', 'ZFreeStylee', 1846, 'Drahisan', 1963, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,Nbd2,d6,c4,Nbd7,Bg3,Re8,h3,c5,Be2,Qb6,Qc2,Nf8,O-O,h6,dxc5,dxc5,Rab1,N8h7,a3,Rd8,b4,Bf5,e4,Bd7,bxc5,Qxc5,Nb3,Qxa3,Ra1,Qb4,Rfb1,Nh5,Be5,f6,Bc3,Qd6,Rd1,Qc7,Ba5,b6,Bb4,e5,Nh4,Nf4,Nf3,h5,Bd2,Ne6,Nh4,g5,Nf5,Nf4,Bxf4,gxf4,Ne7+,Kh8,Ng6+,Kg8,Bxh5,Ng5,Ne7+,Kh7,Bg6+,Kh6,h4,Ne6,Qe2,f3,Qxf3,Nf4,g4,Be6,g5+,fxg5,hxg5+,Kxg5,Qg3+,Kf6', 'Qh4#', 'https://lichess.org/training/henGA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hEntV', 'Classical', 'NRG_AditSharma', 1741, 'do9999', 1736, 'c4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,d3,Nf6,e4,e5,Nd5,Nxd5,cxd5,Nd4,Nf3,O-O,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/hEntV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('heofg', 'Classical', 'felbel-13', 1860, 'Dennis1989', 2339, 'e4,c6,d4,d5,e5,c5,c3,Nc6,h3,Bf5,a4,e6,Bb5,a6,Bxc6+,bxc6,Nf3,Qb6,O-O,a5,Nh2,f6,f4,cxd4,cxd4,c5,Be3,Qxb2,Nd2,cxd4,Bf2,fxe5,fxe5,Bb4,Be1,d3,Rb1,Qxe5,Nhf3,Qd6,Nd4,Bc5,Nb3,Ne7,Nxc5,Qxc5,Bf2,Qc4,Nxf5,Nxf5,Rc1,Qe4,Re1,Qb4,Rxe6+,Kf7,Rec6,d2,Rb1,Qe4,Rb7+,Ne7,Qxd2,Rhb8,Rcc7,Rxb7,Rxb7,Kg8', 'Rxe7,Qxe7,Qxd5+', 'https://lichess.org/training/heofg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HEp9R', 'Blitz', 'pitabread', 1502, 'ziadnazmat1980', 1501, 'c4,e5,d4,Nf6,d5,Bc5,Nc3,a6,Bg5,O-O,Nf3,d6,e3,Nbd7,Bd3,Re8,e4,h6,Bh4,g5,Bg3,g4,Nd2,Nh7,h4,Ndf6,Qe2,b5,O-O-O,b4,Na4,Bd7,Nxc5,dxc5,f3,Ba4,b3,Bd7,f4,exf4,Bxf4,h5,Bg5,Qe7,Rdf1,a5,Rf2,a4,Bb1,axb3,axb3,Qe5,Rhf1,Qc3+,Kd1,Ra1,Bxf6,Nxf6,Rxf6,Rxb1+,Nxb1,Qxb3+,Kd2,Qb2+,Ke1,Qc1+,Qd1', 'Rxe4+,Kf2,Qe3#', 'https://lichess.org/training/HEp9R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HEpOt', 'Classical', 'teranzoro', 1705, 'gilzzza', 1778, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bg5,Be7,O-O,O-O,Qe2,b5,Bd3,Nbd7,Nc6,Qe8,a3,Bb7,Nxe7+,Qxe7,Rad1,h6,Bh4,g5,Bg3,Nc5,e5,dxe5,Bxe5,Nxd3,Rxd3,Rad8,f4,Rxd3,cxd3,g4,Bxf6,Qxf6,Qxg4+,Kh7,f5,Rg8,Qh3,Rxg2+,Qxg2,Bxg2,Kxg2,exf5,Ne4,Qg6+,Ng3,Qg5,Rxf5,Qd2+,Kh3,Qxd3,Rxf7+,Kg6,Ra7,Qd6', 'Rg7+,Kxg7,Nf5+,Kf6,Nxd6', 'https://lichess.org/training/HEpOt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hepTz', 'Classical', 'Duscian', 1798, 'assyll', 1689, 'g3,e6,Bg2,c5,c4,Nc6,Qb3,Nf6,e3,Na5,Qa4,Be7,Nc3,O-O,Nge2,d5,cxd5,exd5,O-O,b6,d3,Bd7,Qd1,Rb8,b3,Re8,d4,c4,Nxd5,Nxd5,Bxd5,cxb3,axb3,Bh3,Bg2,Bxg2,Kxg2,Bg5,b4,Nc6,Qb3,a5,b5,Nb4,Bd2,Rc8,Bxb4,axb4,Qxb4,Qd5+,Kg1,Rc4,Qb3,Qe6,Rac1,Rxc1,Rxc1,Qxb3,Nc3,Bxe3,Ne4,Bxd4,Nd6,Rd8,Kg2,g6,Ne4,Qxb5,Rd1,Bc5,Rxd8+,Kg7,Ng5,Qc6+,f3,Qf6,Rd5,h6,Ne4,Qb2+,Kh3,Ba3,Rd7,b5,Rb7,b4,Nd6,Qf6', 'Ne8+,Kf8,Nxf6', 'https://lichess.org/training/hepTz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HeqhR', 'Blitz', 'WFM Arychess25', 2139, 'huaxin', 2124, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,Ngf3,cxd4,Nxd4,Nc6,N2b3,Qb6,c3,a5,a4,Nc5,Bb5,Bd7,Bxc6,bxc6,Nd2,Be7,O-O,Ne4,Nxe4,dxe4,Kh1,O-O,Nf5,exf5,Qxd7,Rfe8,Qxf5,e3,Qe4,Bc5,Rb1,Rad8,Re1,g6,f5,Qc7,fxg6,hxg6,Bxe3,Rxe5,Qf4,Bd6,Qh6', 'Rh5,Qxh5,gxh5', 'https://lichess.org/training/HeqhR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HeQmK', 'Blitz', 'Avorton2b', 2328, 'astanov', 2369, 'e4,c5,Nf3,Nc6,Bb5,e5,c3,a6,Bc4,b5,Bd5,Bd6,d4,cxd4,O-O,Nge7,cxd4,exd4,Ng5,Nxd5,exd5,Ne7,Qh5,g6,Ne4,gxh5', 'Nf6+,Kf8,Bh6#', 'https://lichess.org/training/HeQmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('heqPq', 'Blitz', 'IM chargemax23', 2649, 'Aleksandr_ShneiderGM', 2699, 'e4,d5,e5,Bf5,Nf3,e6,c4,d4,d3,Ne7,h3,h5,g3,c5,Bg2,Nbc6,a3,Ng6,Qe2,Qc7,Bf4,Rc8,Nbd2,Be7,O-O,h4,Kh2,Kd7,Rfe1,hxg3+,Bxg3,Rh6,Ng1,Rch8,f4,Bh4,Ndf3,Bxg3+,Kxg3,f6,b4,Nxf4,Kxf4,g5+,Kg3,Kc8,b5,Nd8,Nh2,Nf7,Kf2,Nxe5,Rad1,Rh4,Ngf3,Rf4,Kg1,Nxf3+,Nxf3,g4,Nd2,e5,Ne4,Bxe4,Bxe4,gxh3,Kh1,f5,Bd5,Rf8,Qxe5', 'Rf1+,Rxf1,Qxe5', 'https://lichess.org/training/heqPq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hErSm', 'Blitz', 'barrento', 1810, 'bicb18', 1806, 'd4,d5,Bf4,e6,e3,f5,Bd3,Nf6,Nf3,Bd6,Ne5,Nbd7,Nd2,O-O,c3,c6,h3,Ne4,Nxe4,fxe4,Be2,Nxe5,dxe5,Bc5,f3,Qh4+,g3,Qe7,fxe4,g5,exd5,gxf4,gxf4,Bxe3,Qd3,Qh4+,Kd1,Bxf4,Rg1+,Kh8,Kc2,Bxe5,Rg4,Qd8,Rag1,Qxd5', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/hErSm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('heTDE', 'Bullet', 'No_soy_yo', 1914, 'ArthurJonah', 1938, 'd4,Nf6,Nc3,d5,Bg5,e6,Qd2,c5,e3,Nc6,O-O-O,Be7,Nf3,cxd4,exd4,O-O,Kb1,a6,a3,Bd7,Bd3,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/heTDE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HetfS', 'Blitz', 'WFM DianaMirza', 1891, 'matgross', 2292, 'c4,Nf6,b4,e6,b5,d5,cxd5,Nxd5,Bb2,Nf6,e3,Be7,Nf3,O-O,Nc3,a6,bxa6,Nxa6,Be2,Bd7,O-O,Nb4,d4,Bc6,Ne5,Bd5,Nxd5,Nbxd5,Qb3,Qc8,Rfc1,c6,Nc4,b5,Ne5,Ra6,Bxb5,Rb6,Rxc6,Qb7,Rxb6,Qxb6,Bc4,Qa7,Nc6,Qd7,Nxe7+,Nxe7,a4,Rc8,a5,Nc6,a6,Nd5,Qb7,Rc7,Qa8+,Rc8,Qb7,Rc7,Qb5,Na7,Qb8+,Rc8,Qb7,Rc7,Qb8+,Rc8,Qb3,Qc7,Bxd5,exd5,h3,Rb8,Qc3,Qb6,Ba3,Qxa6,Bc5,Nb5,Rxa6,Nxc3,Rd6,g6,Kh2,Rb2,Kg3', 'Ne4+,Kh2,Nxd6', 'https://lichess.org/training/HetfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hetGD', 'Blitz', 'CM MastacticaTeoria', 2437, 'Bierblitz', 2543, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Qb6,Ne2,cxd4,Nexd4,Nc6,c3,Nc5,Qc2,Ne4,Bd3,f5,exf6,Nxf6,Be3,Bc5,b4,Nxd4,Nxd4,Bd6,Nf5,Qc7,Nxd6+,Qxd6,Qd2,b6,O-O,O-O,Bd4,Bb7,Rae1,Ne4,Qe3,Rf5,Be5,Qc6,c4,Raf8,cxd5,exd5,Rc1,Qa4,Rc7,R5f7,Rxf7,Rxf7,h3,Qxb4,Kh2,Qc5,Qe2,h6,Rd1,Kh7,Bxe4+,dxe4,Rd6,e3,Qd3+,Kg8,Qg6,Qc8,Qd3,Qf5,Qxe3,Kh7,Qd2,Re7,Qd4,Rc7,Qd2', 'Rc2,Rd7,Rxd2', 'https://lichess.org/training/hetGD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hEUti', 'Rapid', 'Pasibuse', 1930, 'ArtemEr2008', 1964, 'e4,c5,d3,d6,c3,Nc6,h3,g6,Be2,Bg7,g4,Nf6,Nd2,O-O,Ngf3,a6,Qc2,e6,Nf1,Nd7,Ng3,Nde5,Nh2,f5,g5,f4,Ngf1,Qxg5,Nf3,Nxf3+,Bxf3,Be5,Bd2,b5,Ke2,b4,Nh2,Qh4,Ng4,bxc3,bxc3,h5,Rag1,hxg4,Rxg4,Qh6,h4,d5,h5,g5,Rhg1,Bf6,Bxf4,e5', 'Bxg5,Bxg5,Rxg5+', 'https://lichess.org/training/hEUti');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HeWbd', 'Blitz', 'kolotok', 1771, 'rusmanizza', 1782, 'e4,c5,Nf3,e6,Nc3,a6,d4,cxd4,Nxd4,Bb4,Bd2,Bc5,Be3,Ne7,a3,Ba7,Rg1,O-O,g4,Ng6,f4,Qh4+,Bf2,Qxh2,f5,Nf4,Bg3,Qxg1,Bxf4,Bxd4,Qf3,e5,Bg3,Bxc3+,Qxc3,f6,O-O-O,Qb6,Bc4+,Kh8,Rh1,Nc6,Be1,Qd4', 'Rxh7+,Kxh7,Qh3#', 'https://lichess.org/training/HeWbd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HEwnE', 'Blitz', 'Basem_rofaeal', 2204, 'reg1cidal', 2047, 'e4,g6,d4,Bg7,Nc3,d6,Be3,Nf6,f3,O-O,Qd2,c5,Nge2,cxd4,Nxd4,Nc6,Nb3,Bd7,O-O-O,a5,Bb5,Nb4,Bxd7,Qxd7,a3,a4,Nd4,Nc6,Ndb5,Rfc8,Kb1,Na5,Bd4,Nc4,Qd3,Ra5,Na7,Rc7,g4,Ne8,Nd5,Bxd4,Qxd4,Rcc5,Nc3,Rxa7,Qxc5,b5,Qxb5,Qc8,Rd4,Nxa3+,bxa3,Rb7,Rxa4,Rxb5+,Nxb5,Nf6,Rd1,Nd7,Rb4,Kg7,a4,Qc5,Rdd4,Nb6,Rb3,e5,Rc3,exd4', 'Rxc5,dxc5,a5,Nc4,a6', 'https://lichess.org/training/HEwnE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hewOh', 'Blitz', 'LocusPoint', 1853, 'isaac33', 1848, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Bb3,Bc5,O-O,O-O,d3,Nf6,Nc3,c6,h3,h6,Re1,a5,d4,Bd6,Ne2,Nbd7,Bf4,Bxf4,Nxf4,a4,Bxd5,cxd5,Ne5,Nxe5,Rxe5,Re8,Qf3,Be6,Rae1,Qd7,Nh5,Nxh5,Qxh5,Rac8,c3,b5,R1e3,b4,Rg3,Kh8,f4,Rg8,f5,Rc6,fxe6,Rxe6,Rxd5,Re1+,Kh2,Qe7,cxb4,Qxb4,Rc5,Qxb2,Rc6,Qd2,Qxf7,Qxd4', 'Rxh6+,gxh6,Rxg8#', 'https://lichess.org/training/hewOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hEXLa', 'Blitz', 'DydyF', 1733, 'banks123', 1698, 'Nf3,d5,b3,Nc6,Bb2,Nf6,e3,Bf5,Bb5,e6,O-O,a6,Bxc6+,bxc6,Ne5,Qd6,d3,Be7,Nd2,O-O,e4,Bg6,Ndf3,c5,Nxg6,fxg6,exd5,exd5,Re1,d4,a3,Ng4,h3,Rxf3', 'Qxf3,Qh2+,Kf1,Rf8,Qxg4', 'https://lichess.org/training/hEXLa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hexrc', 'Rapid', 'BoyanTsvetkov', 1698, 'nikola_karpov', 1669, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,c5,dxc5,Qa5+,Nc3,Qxc5,Qb5+,Qc6,Nd4,Qxb5,Ncxb5,Kd7,Bf4,a6,Nd6,Bxd6,exd6,Nc6,Nxc6,bxc6,O-O-O,Nf6,b3,Ne4,Rhf1,Nxd6,Be5,f6,Bc3,Ne4,Ba5,Ke7,f3,Nd6,Rfe1,Kf7,g4,Ne8,h4,Nd6,a4,Nb7,Bb4,c5,Ba3,Rac8,f4,c4,bxc4,Rxc4,f5,Re4', 'Rxe4,dxe4,Rd7+', 'https://lichess.org/training/Hexrc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HexU1', 'Blitz', 'darricksee', 1713, 'b2482', 1723, 'e4,c5,Qh5,d6,Bc4,e6,Nc3,Nf6,Qf3,g6,Nh3,Bg7,O-O,O-O,d3,a6,a3,Nbd7,Bg5,h6,Bxf6,Nxf6,Ba2,Rb8,Nf4,b5,Rab1,Kh7,Rfd1,Bb7,Qg3,Qd7,b3,e5,Nfd5,Nxd5,Nxd5,Bxd5,exd5,f5,c4,f4,Qf3,Rf5,Qe4,Rbf8,f3,Rg5,cxb5,axb5,a4,bxa4,bxa4,Qh3,Rd2,Qh4,Qe1,Qh5,Bc4,e4,dxe4,Bd4+,Kh1', 'Qxh2+,Kxh2,Rh5+,Qh4,Rxh4#', 'https://lichess.org/training/HexU1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('heYQy', 'Blitz', 'Livione', 1771, 'paolo100', 1750, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nge7,d4,exd4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,O-O,d5,Nb8,e5,c6,Bc4,d6,Bg5,dxe5,Nxe5,f6,d6+,Kh8,dxe7,Qxe7,O-O,Qxe5,Be3,Bf5,Re1,Qxc3,Qd6,Na6,Bxa6,bxa6,Rec1,Qb2,Qxc6,Rac8,Qd6,Rxc1+,Rxc1,Rg8,Qxa6,h6,Qxa7,Re8,a4', 'Qxc1+,Bxc1,Re1#', 'https://lichess.org/training/heYQy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hezHj', 'Classical', 'Mesabinks', 1819, 'Targeting1600', 1749, 'd4,Nf6,Bf4,d5,e3,e6,Bd3,Bd6,Bg5,Be7,Nd2,Nbd7,Ngf3,O-O,O-O,c5,c3,c4,Bc2,Bd6,Rc1,b5,Bb1,Qc7,Qc2,a5,h3,Re8,e4,dxe4,Nxe4,Nxe4,Qxe4,f5,Qxa8,Rf8,Ne1,Bb7,Qa7,Qc6,d5,Qxd5,Nf3,a4,Rcd1,Qc6,Qd4,Ne5,Ne1,Nf7,Bc1,Rd8,Qh4', 'Bh2+,Kxh2,Rxd1', 'https://lichess.org/training/hezHj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HEzVd', 'Rapid', 'shahta27', 1769, 'ManInMiddle', 1731, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Qc7,Nc3,e6,Be3,b6,O-O-O,Nf6,e5,Bc5,Qc4,Bxe3+,fxe3,Qxe5,Nb5,Qxe3+,Kb1,O-O,Bd3,d5,Qh4,Ba6,Nc7,Bxd3,Rxd3,Qe2,Nxa8,Rxa8,Rg3,Ne4,Rf3,Nd2+,Ka1,Nxf3,gxf3,Qxf3,Rg1,Qe4,Qg3,g6,h4,Qxc2,h5,Rc8,Qf4,Qf5,Qh4,d4,hxg6,fxg6,Qxd4,Qd5,Qf6,Qf5,Qh4,Rf8,a3,e5,Rc1,Rc8,Rh1,Rc7', 'Qd8+,Qf8,Qxc7', 'https://lichess.org/training/HEzVd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hf0Se', 'Rapid', 'PeauDeBanane', 2139, 'vNarcotics', 1758, 'e4,c5,Nf3,Nc6,d4,d5,exd5,Qxd5,Nc3,Qd8,d5,Nb8,Bf4,e6,Bb5+,Bd7,dxe6,fxe6,Qe2,Nc6,Bxc6,Bxc6,Qxe6+,Qe7,Qxe7+,Bxe7,O-O,O-O-O,Ne5,Be8,Rad1,Nf6,Rxd8+,Bxd8,Nc4,Bc7,Bxc7,Kxc7,Re1,Bf7,Nb5+,Kc6,Ne5+,Kxb5,Nxf7,Rf8,Ng5,h6,Ne6,Rf7,b3,Ng4,f3,Nf6,a3,Nd7,c4+,Kb6,b4,cxb4,axb4,a5,b5,Nc5,Nd4,Nd3,Re3,Nb2,Rc3,Kc5,Nc2,Rf4,Ne3,Nxc4,g3,Kb4', 'Nd5+,Kc5,Nxf4', 'https://lichess.org/training/Hf0Se');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hf2jm', 'Rapid', 'Bersama', 2028, 'nvem12345', 2005, 'e4,e6,d4,d5,e5,c5,Bb5+,Bd7,Bxd7+,Nxd7,c3,Ne7,Ne2,Nc6,O-O,cxd4,cxd4,Be7,h3,f6,exf6,Bxf6,a3,O-O,Nbc3,Nb6,Kh1,Qd7,Be3,Rae8,Na4,Be7,Nxb6,axb6,b4,b5,Qb3,Bf6,Rad1,Nd8,Rc1,Nf7,Rc5,Be7,Rc3,Nd6,Rfc1,Nc4,Qd1,Ra8,Ng3,Bh4,Qg4,Qe7,Nh5,Bxf2,Bxf2,Rxf2,Rf3,Rxf3,gxf3,Rxa3,Rg1,g6,Nf4,Qf7,Qg5,Rxf3,Qd8+,Kg7', 'Nh5+,Kh6,Qg5#', 'https://lichess.org/training/Hf2jm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hf2yj', 'Rapid', 'arrami01', 1885, 'usuarioconnombre', 2088, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,dxc6,Qxd8+,Kxd8,Bc4,Be6,Bxe6,fxe6,Be3,Bg7,c3,Nf6,Nd2,Kc7,O-O,Rad8,f3,b6,Bd4,Nh5,Bxg7,Nxg7,Rad1,Nh5,Nc4,Nf4,Ne5,Rhf8,g4,Rd6,Kf2,g5,Ke3,Ng2+,Ke2,Nf4+,Ke3,Rfd8,Rxd6,exd6,Nd3,Ng6,f4,gxf4+,Nxf4,Nxf4,Rxf4,Rd7,Rf6,Re7,Kf4,Kd7,Rf8,d5,Ra8,e5+,Kf5,Kd6,Kf6,Re6+,Kf5,Rh6,exd5,cxd5,Rd8+,Kc6,Kxe5,Rxh2,Rxd5', 'Re2+,Kd4,Rd2+,Ke4,Rxd5', 'https://lichess.org/training/Hf2yj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hf3Rn', 'Rapid', 'roies', 2178, 'antoshka-kartoshka', 2078, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,a3,a5,b3,Ngxe5,Bb2,d6,Nbd2,Qf6,Be2', 'Nxf3+,Bxf3,Qxb2', 'https://lichess.org/training/hf3Rn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hf4aY', 'Rapid', 'Timushkarik', 1631, 'corsar33', 1633, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,Qe2,Nc6,d4,Nxd4,Nxd4,Qxd4,Bd2,Qxb2,Rd1,Bd6,g3,O-O,Qe4,Qxa2,Bd3,f5,Bc4+,Be6', 'Bxa2,fxe4,Bxe6+', 'https://lichess.org/training/Hf4aY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hf55s', 'Rapid', 'fortiman', 1709, 'kurtozan251', 1618, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,h6,Bh4,O-O,Nf3,Re8,Bxf6,Bxf6,cxd5,exd5,Be2,Bg4,h3,Bh5,O-O,c6,Nh2,Bg6,Ng4,Be7,Ne5,Bh7,Bh5,Rf8,Ne2,Nd7,Nxd7,Qxd7,Nf4,Bd6,Nd3,Bc7,Bg4,Qd6,Ne5,f6,Nf3,Be4,g3,g6,h4,g5,hxg5,fxg5,Kg2,Kg7,Rh1,Rh8,Rh2,Rh7,Qe2,Rf8,Rah1,Qf6,Rh5,Bg6,R5h3,Rfh8,R1h2,h5,Ne5,hxg4,Rxh7+,Rxh7,Rxh7+,Bxh7,Qxg4,Bxe5,Qd7+,Qf7,Qg4,Be4+,f3,Bf5,Qxg5+,Bg6,dxe5,Kf8,Qd8+,Qe8,Qf6+,Bf7,f4,Qe7,Qh8+,Bg8,Qh6+,Qg7,Qd6+,Qe7,Qb8+,Kf7,Qxa7,Bh7,a4,Be4+,Kh3,Ke6,Qb8,Qh7+,Kg4,Bf5+,Kf3,Qh5+,Kf2,Qh2+,Ke1,Qxg3+,Kd2,Qf2+,Kc3,Qxe3+,Kb4,Qxf4+,Kc5,Qf2+,Kb4,Qb6+,Ka3,Qe3+,Kb4,Qxe5,Qe8+,Kf6,Qf8+,Kg5,Qg8+,Kf4,Qg1,Qxb2+,Kc5,Qa3+,Kb6,Qb4+,Kc7,Qxa4,Qf2+,Ke4', 'Qh4+,Ke3,Qxa4', 'https://lichess.org/training/hf55s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HfAN8', 'Rapid', 'Surya01', 1958, 'clesque', 1903, 'e4,e6,d4,d5,Nc3,Bb4,Qg4,g6,e5,Ne7,Bg5,h6,Bf6,Rg8,Qh4,Nd7,Bxe7,Bxe7,Qxh6,Bg5,Qh7,Rf8,Bd3,b6,h4,Be7,f4,Bb7,h5,gxh5,Rxh5,Nb8,Nf3,Nc6,f5,exf5,Bxf5,Bc8,O-O-O,Be6,Rh6,Bg5+,Nxg5', 'Qxg5+,Kb1,Bxf5', 'https://lichess.org/training/HfAN8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hfBE3', 'Rapid', 'vladimirzozulya1500', 1929, 'MikaRatilainen', 1871, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,d6,d3,Be6,Bg5,h6,Bh4,Be7,Bxf6,Bxf6,Nc3,Ne7,Qd2,c6,d4,Ng6,d5,Bg4,Qe3,c5,a4,b4,Nd1,Nh4,Nxh4,Bxh4,f4,exf4,Qxf4,Bh5,Nf2,Bg5,Qf5,Bg6,Qf3,O-O,c4,f5,Qd3,fxe4,Nxe4,Qe7,Rae1,Bxe4,Rxf8+,Rxf8,Qxe4,Qf6,Bc2', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/hfBE3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hFBEa', 'Rapid', 'Bartok97', 2309, 'guffran123ahemad', 2231, 'e4,c5,Nf3,Nc6,d3,d6,Nbd2,Bg4,h3,Bh5,Be2,Nf6,c3,e6,O-O,Be7,Re1,h6,Nf1,O-O,Ng3,Bg6,Nh4,Bh7,Nf3,a6,Bf1,Qd7,Qe2,Kh8,Bf4,e5,Bc1,Rad8,Nh4,Rfe8,Nhf5,Bf8,Qf3,Ne7,Nxh6,Ng6,Nhf5,d5,Bg5,Qe6,h4,Rd7,h5,Ne7,h6,gxh6,Nxe7,hxg5,Nef5,g4,Qe3,Be7,Qh6,Rg8,Nxe7,Qxe7,Nf5,Qe6,g3,Rg6,Qh4,dxe4,dxe4,Nxe4,Rxe4,Qxf5,Bg2,Qe6,Rae1,f6,f4,gxf3,Bxf3,Rdg7,g4,Kg8,Kf2,Qxa2', 'Rxe5,fxe5,Qd8+', 'https://lichess.org/training/hFBEa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HfbGM', 'Rapid', 'RogerioBarros0610', 1776, 'msrage7', 1784, 'd4,d5,Bf4,e6,Nc3,Nf6,Nb5,Bd6,Nxd6+,cxd6,e3,e5,dxe5,dxe5,Bxe5,O-O,Bc3,Re8,Bb5,Nc6,Bd4', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/HfbGM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hFbvN', 'Rapid', 'ErickaSilva_22', 1843, 'Ioan12behr34', 1784, 'c4,e5,Nc3,Bc5,Nf3,Nc6,g3,d6,Bg2,Bg4,d3,Nge7,a3,a6,O-O,Ng6,Rb1,h5,b4,Ba7,a4,h4,b5,hxg3,hxg3,Nd4,Nxd4,Bxd4,Nd5,c6,bxc6,bxc6,Ne3,Bd7,Bb2,Qg5,Bxd4,exd4,Nc2,Qh6,f3,O-O-O,Qc1,Qh2+,Kf2,Bh3,Rg1,Rde8,Nxd4,c5,Nc6,Rxe2+,Kxe2,Bxg2,Rb8+,Kc7,Rxh8,Nxh8,Na5,Ng6,Qe3,Ne5,f4,Bf3+,Ke1', 'Nxd3+,Qxd3,Qxg1+', 'https://lichess.org/training/hFbvN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hfc65', 'Rapid', 'jmnChess', 1702, 'gogoLSFC', 1663, 'e4,c5,Nf3,d6,h3,Nc6,Bb5,Bd7,O-O,Nf6,Bxc6,Bxc6,e5,Bxf3,Qxf3,dxe5,Qxb7,Nd7,Nc3,Rb8,Qxa7,e6,a4,Bd6,Nb5,Qb6,Nxd6+,Qxd6,d4,exd4,g3,O-O,Qa5,Ne5,Bf4,Qd5,Bxe5,Qxe5,Rae1,Qh5,Kh2,Rxb2,Rb1,Qe2,Kg2,Qxc2,Rxb2,Qxb2,Qxc5,d3,Qd6,Qe2,a5,Ra8,a6,g6,a7,Qe4+,Kg1,Rxa7', 'Qb8+,Kg7,Qxa7', 'https://lichess.org/training/Hfc65');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HFCJN', 'Rapid', 'bigiggye', 1851, 'Vasa91', 1789, 'c4,c5,g3,Nc6,Bg2,Nf6,Nc3,b6,d3,Bb7,e4,e6,Nge2,Be7,O-O,O-O,b3,Ng4,Bb2,Nb4,Qd2,Ne5,d4,cxd4,Nxd4,Rc8,a3,Nbd3,f4,Nxb2,fxe5,Nxc4,bxc4,Rxc4,Ncb5,Bc5,Kh1,Qb8,Nd6,Bxd4', 'Nxc4,Bxa1,Rxa1', 'https://lichess.org/training/HFCJN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hfH0u', 'Rapid', 'ddavood2026', 1828, 'luismiarequipa', 1942, 'e4,c5,Nf3,d6,Nc3,Nc6,Bb5,Nf6,d4,cxd4,Nxd4,Bd7,Bxc6,bxc6,Bg5,e6,Qf3,Be7,e5,Nd5,Bxe7,Qxe7,exd6,Qxd6,Ne4,Qb4+,c3,Qxb2,O-O,O-O,Rfb1,Qa3,Rb7,Bc8,Rb3,Qa6,Nc5,Qc4,Ne4,e5,Nd6,Qa6,c4,exd4,cxd5,cxd5,Qxd5,Be6,Qxd4,Bxb3,axb3,Qb6,Qe5,Qxb3,Nf5,f6,Qc7,Qf7,Qg3,a5', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/hfH0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HFhTW', 'Rapid', 'baardkast', 1820, 'vx9mcz', 1770, 'e3,e5,g3,Nf6,Bg2,d5,Ne2,e4,d3,Bf5,Nbc3,Bb4,Bd2,c6,dxe4,Nxe4,Nxe4,Bxe4,f3,Bxd2+,Qxd2,Bg6,Nc3,O-O,O-O-O,Qb6,h4,h5,g4,f5,gxf5,Bxf5,e4,dxe4,fxe4,Bg4,Rdf1,Nd7,Bh3,Ne5,Bxg4,Nxg4,Qg5,Qe3+,Kb1,Qxg5,hxg5,g6,a3,Rae8,b4,b5,Kb2,Ne3,Rxf8+,Kxf8,Re1,Nc4+,Kb3,Re5,a4,a6,axb5,axb5,Nd1,Nd2+,Kc3,Nf3,Re3,Nxg5,Nf2,Kg7,Kd4,Kf6,Nd3,Re8,e5+,Kf5,Kc5,Re6,Kb6,h4,Re1,Ne4,Rf1+,Kg4', 'Rf4+,Kg3,Rxe4', 'https://lichess.org/training/HFhTW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hfj0G', 'Blitz', 'mariusmaximus', 1559, 'chlddevelopmnt', 1683, 'e4,e5,Nf3,d5,Nc3,d4,Nb1,Nc6,d3,f5,c4,fxe4,dxe4,Nf6,Bd3,Bg4,O-O,Qd7,Bg5,h6,Bh4,g5,Bg3,Bd6,Nbd2,O-O-O,Rc1,Nh5,c5,Nxg3,fxg3,Be7,Nc4,h5,Qb3,h4,Nfxe5,Nxe5,Nxe5,Qe6,Nxg4,Qxg4,Bc4,Kb8,c6,b6,Qa4,Ka8,Ba6,Qxe4,Bb7+,Kb8,Rc4,hxg3', 'Qxa7+,Kxa7,Ra4+,Kb8,Ra8#', 'https://lichess.org/training/hfj0G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HfKVT', 'Rapid', 'Jorge_luis_vila', 1680, 'StalematePepeLaugh', 1675, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,Qc7,Nd2,a6,Nf3,e5,Be2,Bb7,Re1,e4,Nd4,Bd6,g3,Ne7,Bg5,h6,Bxe7,Bxe7,Nf5,Bf6,Nd4,O-O,c3,Rfe8,Rc1,e3,fxe3,Rxe3,Bf1,Rae8,Rxe3,Rxe3,Qg4,Qc5,Kh1,Re4,Qd1,Bxd4,cxd4,Rxd4,Qe1,Re4,Rxc5,Rxe1,Kg1,Re7,Bg2,Rd7,Kf2,f5,Ke3,Kf7,Kd4,Ke6,a3,g5,b4,f4,gxf4,gxf4', 'Bh3+,Kd6,Bxd7', 'https://lichess.org/training/HfKVT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HFLWI', 'Rapid', 'Dav01', 1849, 'whohurtyou', 1723, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,c4,Nf6,Nxc6,bxc6,Bd3,Bb7,Nd2,Bc5,O-O,O-O,Nb3,Bd6,Re1,Ne8,e5,Bb4,Re3,Nc7,Bxh7+,Kxh7,Qh5+,Kg8,Rh3,f6,Qg6,fxe5,Qh7+,Kf7,Rf3+,Ke8,Qg6+,Ke7,Qxg7+,Kd6,Rd3+,Nd5,cxd5,exd5,Bg5,Qb6,Be7+,Kc7,Bxf8,Rxf8,Qxe5+,Bd6,Qe2,Ba6,Rad1,Bxd3,Rxd3,Qa6,Qc2,Qxa2,Rxd5,Re8,Rd1,Rh8,g3,Qa4,Qc3,Rh5,Ra1,Qg4,Rxa7+,Kd8,Ra1,Qh3,Qf3,Qxh2+,Kf1,Rh8,Qf6+,Kc7,Ra7+,Kc8,Ra8+,Bb8,Qf3,Kb7,Ra3,Re8,Nc5+,Kc7,Qf4+,Kc8,Qf3,Kc7,Na6+,Kc8,Nxb8', 'Qh3+,Qg2,Re1+,Kxe1,Qxg2', 'https://lichess.org/training/HFLWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HflYW', 'Rapid', 'Bars72', 2050, 'Supertitiz', 1983, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,e6,Nc3,c5,d5,d6,Bf4,Be7,Nf3,O-O,exd6,Bxd6,Bxd6,Qxd6,Ne4,Qf4,Qd3,exd5,cxd5,c4,Qc2,Re8,Nd2,f5,g3,Qd6,O-O-O,fxe4,Nxe4,Qh6+,f4,Bf5,Re1,Qg6,Bg2,Nxd5,h3,Na6,g4,Bd7,f5,Qh6+,g5,Qc6,f6,Bf5,f7+,Kxf7,Rhf1,g6,Rxf5+,gxf5,Rf1,Ne3,Qf2,Nxf1,Qxf5+,Kg8,Nf6+,Qxf6', 'Bd5+,Qe6,Bxe6+,Rxe6,Qxe6+', 'https://lichess.org/training/HflYW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HfmMK', 'Classical', 'FunnyFighter', 1758, 'majdiaiiat', 1739, 'Nf3,b6,b3,Bb7,e3,g6,c4,Bg7,d4,e6,Nc3,Ne7,Ng5,O-O,h4,h6,Nf3,d5,Bb2,dxc4,Bxc4,Nbc6,g4,e5,d5,Nb4,e4,c6,d6,Nc8,a3,Na6,Ke2,Nxd6,h5,g5,Bd3,Nc5,Bc2,Qf6,Nd2,Qf4,Bc1,Qxg4+,Ke1,Qg2,Qf3,Qxf3,Nxf3,f5,Be3,fxe4,Bxc5,Rxf3,Bxd6,Rxc3,Kd2,Rf3,Bxe4,Rxf2+,Ke3,Rb2,Rab1,Rxb1,Rxb1,Rd8,Bc7,Rd7,Bb8,a5,Rf1,Rf7', 'Bh7+,Kxh7,Rxf7', 'https://lichess.org/training/HfmMK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hfmn0', 'Rapid', 'FaMilan99', 1843, 'Fritzmann', 1839, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Nxc6,bxc6,Be3,d6,Bd3,Nf6,Qd2,O-O,O-O,c5,Bh6,Bb7,Bxg7,Kxg7,f4,Qb6,a3,c4+,Kh1,cxd3,cxd3,Qd4,e5,dxe5,fxe5,Nd5,Qg5,e6,Nxd5,Bxd5,Qf6+,Kg8,Rf4,Qxb2,Rg1,Rac8,Rg4,Rc1,h4,Rxg1+,Kxg1,Qb1+,Kh2,Qxd3,h5,h6', 'hxg6,fxg6,Rxg6+,Qxg6,Qxg6+', 'https://lichess.org/training/Hfmn0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hfnhG', 'Rapid', 'Arabia12', 1832, 'Andreshax', 1869, 'f4,d5,Nf3,e6,e3,Nf6,Bd3,Be7,O-O,Nc6,b3,Ne4,Bb2,O-O,Ne5,f5,Qh5,Bf6,Nxc6,bxc6,Bxf6,Qxf6,c3,c5,Bxe4,dxe4,Na3,Ba6,Rfe1,Rad8,Rad1,Qe7,Nc2,c4,b4,Rd3,Re2,Rfd8,Rf2,g6,Qh6,Rxc3,Nd4,Ra3,b5,Bb7,h4,Rxa2,h5,Qg7', 'Qxg7+,Kxg7,Nxe6+', 'https://lichess.org/training/hfnhG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hfnJW', 'Classical', 'whitehorse92', 1876, 'ripachu', 2001, 'd4,Nf6,Bf4,d6,e3,Bf5,c3,Nbd7,Qb3,e5,Bg3,exd4,exd4,Be7,Nf3,O-O,Be2,Ne4,Nbd2,Nxg3,hxg3,Re8,O-O-O,Bf6,Nh4,Bxh4,Bc4,Bg5,Bxf7+,Kf8,f4,Bh6,Bxe8,Qxe8,Rde1,Qg6,Qxb7,Rb8,Qxc7,Kg8,Nc4,Qxg3,Qxb8+,Nxb8,Re8+,Kf7,Nxd6+,Kf6,Rf8+,Ke6,Nxf5,Bxf4+,Kb1,Qd3+,Ka1,g5,Rh6+,Kd5,Rd8+,Ke4,Nd6+,Ke3', 'Rh3+,Kd2,Rxd3+', 'https://lichess.org/training/hfnJW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HFO08', 'Rapid', 'jcurameshi', 1797, 'XxHoonxX', 1802, 'd4,Nf6,Bf4,d5,e3,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Be7,Qb5+,Nbd7,Qxb7,O-O,Bxc7,Qc8,Qxc8,Raxc8,Ba5,Rxc2,Bc3', 'Rc1+,Ke2,Rxh1', 'https://lichess.org/training/HFO08');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hfOl3', 'Blitz', 'ibartok', 2188, 'chapaquente', 2090, 'd4,d5,c4,Bf5,Nc3,e6,h3,Nc6,g4,Bg6,Bg2,Nb4,e4,dxc4,Nge2,Nd3+,Kf1,c6,f4,f6,Be3,Nxb2,Qb1,Qb6,f5,Bf7,a4,Nd3,a5,Qxb1+,Rxb1,O-O-O,a6,b5,e5,Nb4,Bxc6,Nxc6,Nxb5,exf5,gxf5,Bh5,e6,Bxe2+,Kxe2,Nge7,Bf4,Nxf5', 'Nxa7+,Nxa7,Rb8#', 'https://lichess.org/training/hfOl3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hfPF4', 'Rapid', 'syko123', 1816, 'Ryeno', 1770, 'd4,f5,Nc3,Nf6,Bg5,e6,e3,Bb4,Ne2,O-O,a3,Be7,Qd2,b6,O-O-O,Bb7,Nf4,Bd6,h3,Bxf4,Bxf4,Ne4,Nxe4,fxe4,Bc4,d5,Be2,Nc6,Bg4,Bc8,Kb1,a5,Be2,Ba6,g4,Bxe2,Qxe2,Ne7,Rdg1,c5,h4,Ng6,Bg5,Qe8,h5,Ne7,Bf4,h6,Bd6,Rf7,g5,Nf5,gxh6,Nxh6,Be5,Kh7,Rg6,Qd7,Rhg1,Rg8,Qf1,cxd4,Bxd4,Nf5,Be5,Nh4,R6g3,Nf3,Rxf3,Rxf3,Qg2,Qf7,Bf4,Qxh5', 'Rh1,Qxh1+,Qxh1+', 'https://lichess.org/training/hfPF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HfQ5w', 'Blitz', 'AAKing', 1626, 'blezzy', 1645, 'd4,e6,Nf3,c5,e3,Nc6,Bb5,Nf6,Bxc6,bxc6,Nc3,cxd4,Qxd4,Be7,O-O,O-O,a4,d5,a5,c5,Qd3,Qd6,Re1,Ba6,Qd2,Bb7,Nb5,Qd7,Qd3,c4,Qd2,Qxb5,b3,Bb4,c3,Bxa5,b4,Bb6,Nd4,Bxd4,exd4,Ne4,Qe3,f5,f3,f4,Qe2,Nxc3,Qxe6+,Kh8,Bd2,Na4,Re5,c3,Bxf4,Qxb4,Bh6,c2', 'Bxg7+,Kxg7,Rg5+,Kh8,Qe5+,Rf6,Qxf6#', 'https://lichess.org/training/HfQ5w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HfQCe', 'Blitz', 'WIM qween1', 2209, 'AnnaRed', 2172, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Be7,a3,O-O,Be2,f6,O-O,cxd4,Bxd4,fxe5,Nxe5,Ndxe5,Bxe5,Nxe5,fxe5,Bd7,Kh1,Qc7,Qd4,Bc5,Nxd5,exd5,Qxd5+,Kh8,e6,Bc6,Qg5,Qe7,Qg4,Rad8,Rae1,Bf2,Rd1,Rxd1,Rxd1,Rd8,Rf1,Bb6', 'Rf7,Qxf7,exf7', 'https://lichess.org/training/HfQCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hfQpS', 'Classical', 'master_mohamedali12', 1888, 'Berong', 2001, 'c4,c6,Nc3,e6,d4,d5,e3,Nf6,Nf3,Nbd7,Bd3,Nb6,b3,Bb4,Bb2,dxc4,Bxc4,Nbd5,Qc2,Ne4,Bxd5,exd5,O-O,Bf5,Nxe4,dxe4,Nd2,Bxd2,Qxd2,Qg5,Kh1,h5,d5,Rd8,d6,Rh6,Ba3,Be6,Qb4,Rd7,Qxe4,Kd8,Rad1,Bd5,f4,Bxe4,fxg5,Re6,Rf4,Bc2,Rdf1,Rxe3,h3,Bg6,Rd4,b6,Rd2,Re6,Rfd1,c5,Bb2,f5,gxf6,gxf6,Bc3,h4,b4,Bh5,Rf1,cxb4,Bxb4,a5,Bc3,Rf7,d7,Rxd7,Bxf6+,Rxf6', 'Rxd7+,Kxd7,Rxf6', 'https://lichess.org/training/hfQpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HFSQD', 'Rapid', 'creatchess', 1888, 'sergeikan1969', 2013, 'd4,d5,Nf3,c6,Bf4,Nf6,e3,Nbd7,Nbd2,c5,c4,cxd4,Nxd4', 'e5,Bxe5,Nxe5', 'https://lichess.org/training/HFSQD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HfswD', 'Blitz', 'Cerrulotimothy', 1827, 'Fishyhardy', 1890, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,Nc6,Be3,Qc7,Qf3,e6,O-O-O,Be7,h4,Nxd4,Bxd4,Bd7,g4,e5,Be3,Bxg4,Qg3,Bxd1,Qxg7,Rg8,Nd5,O-O-O,Qxg8,Rxg8,Nxc7,Kxc7,Rxd1,Ng4,Bd2,Nxf2,Rf1,Nxd3+,cxd3,Bxh4,Rxf7+,Kc6,Rxh7,Bg3,Ba5,Bf4+,Kc2,b6,Bb4,a5,Bc3,b5,a3,a4,Ba5,Rg2+,Kd1,Kc5,Rd7,Rxb2', 'Rc7+,Kd4,Bc3+,Kxd3,Bxb2', 'https://lichess.org/training/HfswD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HfUdS', 'Rapid', 'naxxari', 1716, 'perunswolf', 1613, 'd4,e6,Bf4,c5,c3,Nf6,e3,d5,Nd2,Nc6,Qb3,a6,Ngf3,c4,Qc2,b5,e4,h6,e5,Nh7,b3,Rb8,Be2,Be7,h4,b4,g4,a5,g5,bxc3,Qxc3,Bb4,Qc2,Bxd2+,Kxd2,Nb4,Qb1,c3+,Ke1,c2,Qc1,Qc7,Bd2,Ba6,Bxb4,Bxe2,Bd6,Qc3+,Kxe2,Rc8,gxh6,gxh6,Rg1,Nf8,Bxf8,Kxf8,Ne1', 'Qxa1,Qxa1,c1=Q,Qxc1,Rxc1', 'https://lichess.org/training/HfUdS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hFXdB', 'Rapid', 'NandoEpitome', 1805, 'dawiDOG', 1783, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,d6,exd6,cxd6,Be2,O-O,O-O,Nc6,h3,Nge5,Nbd2,Be6,a3,a5,b3,Qf6,Ne4', 'Nxf3+,Bxf3,Qxa1', 'https://lichess.org/training/hFXdB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HFy0H', 'Rapid', 'whatamess', 1881, 'vscenev', 1769, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,h3,c5,b3,Nc6,Bb2,Rc8,Bb5,Qb6,Nc3,Ne7,Qe2,Bg6,Na4,Qc7,Nxc5,Nf5,Nd3', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/HFy0H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hFySw', 'Rapid', 'abdelhamid_az', 2001, 'ElTopo00', 1977, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,Qc7,Be2,Nf6,O-O,Be7,Kh1,O-O,f4,d6,f5,Nxd4,Bxd4,b5,fxe6,fxe6,a3,Bb7,Bf3,Rad8,Qe1,d5,exd5,exd5,Qe6+,Kh8,Rae1,Ne4,Bxe4,dxe4,Rxf8+,Bxf8,Bb6,Rd6,Qf5,Rf6', 'Qxf6,gxf6,Bxc7', 'https://lichess.org/training/hFySw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hfYz6', 'Rapid', 'seafarer84', 1662, 'Choklev', 1712, 'e4,e5,Nc3,Nf6,f4,exf4,Nf3,Nh5,d3,d6,Bd2,Bg4,g3,fxg3,hxg3,Nxg3,Rg1,Nxf1,Kxf1,Bh3+,Kf2,Nd7,Ng5,Qf6+,Ke1,Be6,Nd5,Bxd5,exd5,h6,Rf1,Qe5+,Ne4,Nf6,Qf3,Be7,Bc3,Qh5', 'Nxf6+,Bxf6,Qxh5', 'https://lichess.org/training/hfYz6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hg49E', 'Rapid', 'Rommel08', 1729, 'x_X_WoLF_X_x', 1814, 'e4,e6,d4,d5,exd5,exd5,c4,Bb4+,Nc3,dxc4,Bxc4,Nf6,Ne2,O-O,O-O,c6,Bg5,h6,Bh4,Bf5,Rc1,Nbd7,f3,Qc7,g4,Bh7,Ne4,Nxe4,fxe4,Bxe4,Qb3,Bd2,Rxf7,Bxc1', 'Rxd7+,Kh8,Rxc7', 'https://lichess.org/training/Hg49E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HG6aT', 'Rapid', 'manmaketh', 1612, 'SCPAUL', 1745, 'e4,e5,f4,exf4,Nf3,Nc6,d4,Nf6,Bxf4,Nxe4,d5,Qe7,dxc6', 'Nc3+,Be2,Nxd1', 'https://lichess.org/training/HG6aT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hg6vP', 'Classical', 'seddigh962', 1667, 'kayapa10', 1732, 'e4,e5,f4,f6,Nf3,Nc6,Nh4,Bc5,Qh5+,g6', 'Nxg6,hxg6,Qxh8', 'https://lichess.org/training/hg6vP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hg7Kv', 'Classical', 'sacha987', 1802, 'osamamass', 1778, 'e4,d5,exd5,Qxd5,d4,Nf6,Nc3,Qa5,Bd2,c6,Bc4,Qc7,Nge2,Bf5,Bf4,Qb6,Na4', 'Qb4+,c3,Qxc4', 'https://lichess.org/training/hg7Kv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HGA3H', 'Blitz', 'KilicNurullah56', 2284, 'NM master05', 2373, 'e4,e5,Nf3,Ke7,Nxe5,d5,exd5,Qxd5,Nf3,Nc6,Nc3,Qd8,Be2,Be6,d4,Nf6,Be3,Nd5,Nxd5+,Bxd5,c4,Bxf3,Bxf3,g6,O-O,Bg7,Re1,Kf8,d5,Ne5,Bc5+,Kg8,Ba3,Nxc4,Qb3,Nxa3,Qxa3,Bf6,Rad1,Kg7,d6,cxd6,Rxd6,Qc7,Red1,Rad8,b3,Rxd6,Qxd6,Qc2,Bxb7', 'Rd8,Qxd8,Bxd8', 'https://lichess.org/training/HGA3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HGaBs', 'Blitz', 'lilsam', 2257, 'sayyidalwi01', 2121, 'e4,c5,d4,cxd4,c3,Qa5,Nf3,Nc6,Nxd4,Nxd4,Qxd4,d6,Nd2,Nf6,Nb3,Qc7,Bg5,e5,Bb5+,Bd7,Qa4,Be7,Bxf6,Bxf6,Bxd7+,Qxd7,Qxd7+,Kxd7,O-O-O,Ke6,g3,Rhd8,f4,g6,Rhf1,b6,Na1,Rac8,Nc2,a5,Ne3,Rd7,Nd5,Bd8', 'f5+,gxf5,exf5#', 'https://lichess.org/training/HGaBs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HgAE2', 'Rapid', 'AlixM', 2079, 'Zeus11111', 1786, 'e4,e6,d4,d5,exd5,exd5,Nf3,c5,Bb5+,Nc6,O-O,h6,Re1+,Be6,Be3,Qb6,Nc3,Rd8,dxc5,Bxc5,Bxc5,Qxc5,Nd4,Ne7,Nxe6,fxe6,Rxe6,O-O,Qf1,Nd4,Rxe7,Qxe7,Bd3,Qg5,Kh1,Qd2,f3,Nxc2', 'Rd1,Qe3,Bxc2', 'https://lichess.org/training/HgAE2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hGBhr', 'Classical', 'wacoomba', 1615, 'steveb120', 1604, 'e4,e5,Ne2,Nf6,Ng3,Nc6,c3,d5,exd5,Nxd5,Bb5,Bd7,O-O,Bd6,c4,Nf6,d3,h6,Be3,O-O,c5,Be7,b4,b6,a3,Rb8,Qa4,Nd4,Bxd7,Nxd7,Ne4,bxc5,bxc5,Nxc5,Nxc5,Bxc5,Nd2,f5', 'Qc4+,Kh7,Qxc5', 'https://lichess.org/training/hGBhr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HgbiE', 'Blitz', 'BanachSteinhaus', 2152, 'mowlid', 2239, 'Nf3,d5,c4,d4,b3,Nc6,Bb2,e5,e3,d3,Nxe5,Nxe5,Bxe5,Nf6,Bb2,Bf5,Nc3,Bd6,f3,Bg6,e4,Bc5,Qb1,Nh5,Qxd3,Qh4+,Kd1,Rd8,Qe2,Nf4,Qe1,Bf2,g3,Bxe1,gxh4,Bxd2,Kc2,Be3,Rd1,O-O,Nd5,Nxd5,Rxd5,c6,Rxd8,Rxd8,Bd3,h5,Re1,Bf2,Re2,Bxh4,Rg2,Kh7,f4,f6,a4,c5,a5,b6,a6,Be1,Bc1,Bb4,Be3,Rd7,f5,Bf7,e5,fxe5,f6+,g6,Be4,Rd6,Bg5,Rd4,Re2,Be6,Bc6,Bf5+,Kb2,Rg4,h4,Rg3,f7,Kg7,Be8,Bc3+,Ka2,Rg1,Bh6+,Kh7,b4,cxb4,f8=Q', 'Ra1+,Kb3,Ra3#', 'https://lichess.org/training/HgbiE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HgdfU', 'Classical', 'hoseinteacher', 1772, 'mod1m', 1746, 'e4,e5,Bc4,Nf6,d3,Bb4+,c3,Bd6,Bg5,O-O,Nd2,Nc6,h3,Be7,Ne2,Na5,Bb5,c6,Ba4,b5,Bc2,d5,O-O,Bb7,Ng3,c5,b4,cxb4,cxb4,Nc6,a3,dxe4,dxe4,Nd4,Re1,Rc8,Ra2,Qd7,Bxf6,Bxf6,Nf3,Nxc2,Rxc2', 'Qxd1,Rxd1,Rxc2', 'https://lichess.org/training/HgdfU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HGDSC', 'Blitz', 'chesster2999', 2052, 'AnthonyJvelarde', 2007, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,Nf6,h3,Bxf3,Bxf3,c6,O-O,e6,b3,Be7,Bb2,O-O,Ne4,Nbd7,d3,Nxe4,Bxe4,Nf6,Bf3,Rad8,Qe2,Bb4,Bxf6,gxf6,c4,Bc3,Rad1,f5,g3,Rd7,Qc2,Rfd8,Be2,Be5,Rfe1,Qc5,Kg2,Bd4,Bf3,e5,Qd2,Qd6,b4,Qg6,c5,f4,g4,f5,Kh1,fxg4,Bxg4,Rg7,Rg1,Qf6,Rde1,Qh4,Re2,Kh8,Kh2,Rdg8,f3,Bxg1+,Kxg1,Rd8,Rxe5,h5,Qxf4,hxg4,hxg4,Rh7,Rg5,Qe1+,Kg2,Qe2+,Kg1,Qe7,Re5,Qf7,Rf5,Qd7', 'Rf8+,Kg7,Qf6#', 'https://lichess.org/training/HGDSC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hGErF', 'Blitz', 'FM hAnN18Al', 2134, 'javieraldea2', 2158, 'e4,c6,d4,d5,e5,c5,c4,cxd4,Nf3,dxc4,Bxc4,Bg4,Qb3,e6,Qxb7,Nd7,Bb5,Bb4+,Bd2,Bxd2+,Nbxd2,Rc8,O-O,Ne7,Nxd4,O-O,Qxd7,Qxd7,Bxd7,Rcd8,Bxe6,Rxd4,Bxg4,Rxd2,b3,Nc6,Rfe1,Re8,Bd7,Rxd7,f4,f6,e6,Rd6,f5,g6,g4,Nd4,Rf1,Nc2,Rac1,Rd2,fxg6,hxg6,Rxf6,Nd4,Rxg6+', 'Kh7,Rf6,Ne2+,Kf2,Nxc1+', 'https://lichess.org/training/hGErF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HgfKM', 'Blitz', 'Ukraina84', 1973, 'oeny', 1920, 'e4,c5,Nc3,e6,Bc4,a6,d3,b5,Bb3,Nc6,Nf3,Bb7,h3,Qc7,O-O,Nf6,Nh2,h5,f4,c4,dxc4,Bc5+,Kh1,bxc4,Bxc4,Nd4,Bd3,h4,Be3,Nh5,Re1,Ng3+,Kg1,Qb6,Na4,Nde2+,Rxe2', 'Bxe3+,Rxe3,Qxe3#', 'https://lichess.org/training/HgfKM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hGFL2', 'Rapid', 'ManishKSharma', 2167, 'iliyanM05', 2293, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Bg5,b6,e3,Bb7,a3,Bxc3+,Qxc3,h6,Bh4,g5,Bg3,Ne4,Qc2,f5,Bd3,d6,Ne2,Nd7,O-O,Qf6,f3,Nxg3,Nxg3,f4,Ne4,Qg7,d5,exd5,cxd5,Nc5,Nxc5,dxc5,e4,c6,d6,Qd4+,Kh1,Qxd6,Rad1,Qe7,Qb3+,Kh8,Qc3+,Qg7,e5,Rfe8,Rfe1,Rad8,Bf5,Rd5,Bg4,Rexe5', 'Rxd5,Rxe1+,Qxe1,cxd5,Qe8+', 'https://lichess.org/training/hGFL2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hGfYM', 'Blitz', 'MKestler', 2110, 'rabeh', 2153, 'e3,e5,d4,exd4,exd4,d5,Nf3,Bf5,Bd3,Bxd3,Qxd3,Nc6,O-O,Nf6,Re1+,Be7,Ne5,O-O,Nxc6,bxc6,Bf4,Bd6,Bg3,Bxg3,hxg3,Qd6,Nd2,Rfe8,c3,Rab8,b3,Qa3,Qc2,a5,Kf1,Ng4,Nf3,a4,bxa4,h6,Rxe8+,Rxe8,Re1,Rb8,Ne5,Rb2,Qc1,Rxf2+,Kg1,Qxa2,Nxg4,Rxg2+,Kh1,Rxg3,Rg1', 'Rh3+,Nh2,Qxh2#', 'https://lichess.org/training/hGfYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hggQ4', 'Classical', 'mohamedhamed78', 1825, 'Alexander_rohit', 1727, 'e4,c5,Nf3,Nc6,d3,Nf6,g3,d6,Bg2,e5,b3,Be7,c4,O-O,Bb2,Nd4,Nbd2,a6,O-O,b5,Nb1,Bb7,h3,Rb8,Nh2,Qd7,h4,h5,Nc3,b4,Nd5,Bxd5,exd5,Rfe8,Bxd4,cxd4,Bf3,g6,Qd2,Qh3,Bg2,Qf5,Be4,Nxe4,dxe4,Qxe4,Rae1,Qf5,f4,Qd7,fxe5,dxe5,Rxe5,Bf6', 'Rxe8+,Rxe8,Rxf6', 'https://lichess.org/training/hggQ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hgJ2F', 'Classical', 'ChessCR07', 1644, 'HardCrab', 1639, 'd4,Nf6,c4,e5,Nf3,e4,Ne5,d5,Nc3,Bb4,Bd2,dxc4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/hgJ2F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hGkEQ', 'Blitz', 'Alexofficer', 1774, 'make2702', 1797, 'd4,f5,c4,Nf6,Nf3,e6,e3,Bb4+,Nc3,O-O,Bd3,b6,Bd2,Bb7,a3,Be7,Qc2,d6,O-O-O,a6,Kb1,b5,cxb5,axb5,Bxb5,Nd5,Ng5,Bxg5,Nxd5,Bxd5,f4,Bf6,Rhg1,c6,Bc4,Na6,g4,fxg4,Rxg4,Bf3,Bxe6+,Kh8,Rg3,Bxd1,Qxd1,Qb6,Rh3,Rab8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/hGkEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HgnbU', 'Classical', 'reufk', 1724, 'abhishekjh', 1746, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Bd7,b3,Nh6,Bxh6,gxh6,O-O,O-O-O,a4,Be7,Bb5,Na5,Bxd7+,Rxd7,dxc5,Qxb3,c6,Qxd1', 'cxd7+,Kxd7,Rxd1', 'https://lichess.org/training/HgnbU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HGo98', 'Rapid', 'ruffyR', 1930, 'Nikitaprost', 2017, 'd4,c6,c4,d5,Nf3,Nf6,Nc3,e6,Bf4,Bd6,Bg5,Nbd7,e3,h6,Bh4,g5,Bg3,Bxg3,hxg3,Ne4,Bd3,f5,Qa4,Ndf6,Ne5,Bd7,Nxd7,Qxd7,cxd5,exd5,Qc2,Qd6,O-O-O,O-O-O,f3,Nxc3,Bxf5+,Kb8,Qxc3,Qxg3,e4,dxe4,fxe4,Nxe4,Bxe4,Qf4+,Qd2,Qxe4,Rhe1,Qd5,Re2,Rhe8,Rxe8,Rxe8,b3,a6,Rh1,Qd6,g4,Re4,Rd1,Rxg4,d5,Qxd5', 'Qh2+,Rf4,Rxd5', 'https://lichess.org/training/HGo98');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HgpUh', 'Rapid', 'sedatrkk0', 1680, 'Rene11577', 1653, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,h6,Bd2,c6,Nf3,Nf6,Be2,Nbd7,O-O,e6,Re1,Bd6,Ne4,Qc7,Nxd6+,Qxd6,Bc3,O-O,Nd2,b5,b4,Bb7,a4,a6,axb5,axb5,Bf3,Rxa1,Qxa1,Ra8,Qb2,Rb8,Ne4,Qf4,Nxf6+,Nxf6,Be4,Ng4,f3,Qxh2+,Kf1,Nf6,Bxf6,gxf6,Qxf6,Qh1+,Ke2,Qxg2+,Kd1,Qg7,Qf4,f5,Qxb8+,Kh7,Bxc6,Bxc6,Rxe6,Qg1+,Re1', 'Bxf3+,Kd2,Qf2+', 'https://lichess.org/training/HgpUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hgQ4y', 'Rapid', 'Lexa2101', 1831, 'Chanuka_Methsithum', 1768, 'e4,d5,e5,Bf5,d4,e6,Bb5+,c6,Bd3,Bg6,Bxg6,hxg6,g3,Ne7,Bg5,Qc7,Nf3,Nd7,b4,f6,exf6,gxf6,Bf4,e5,dxe5,fxe5,Bg5,O-O-O,a4,Re8,Bxe7,Rxe7,Ng5,Bh6,Qg4,Kb8,O-O,Nf6,Qh4,Ree8,Nd2,Bxg5,Qxg5,Qh7,h4,Qh6,Qxf6,Qxd2,Qd6+,Ka8,b5,Qxc2,Rac1,Qxa4,bxc6,bxc6,Rxc6,Rxh4,Qxd5,Rd4', 'Rc8#', 'https://lichess.org/training/hgQ4y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HGq7x', 'Rapid', 'kaanny', 1848, 'kk6626688', 1767, 'd4,Nf6,Nd2,g6,e4,d6,f4,Bg7,e5,dxe5,dxe5,Nd5,c3,Nxf4', 'Qa4+,Nc6,Qxf4', 'https://lichess.org/training/HGq7x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hgQe3', 'Rapid', 'MishFil', 1803, 'Madman159', 1698, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,Be7,Bxf7+,Kxf7,O-O,Re8,d3,Nf6,Nc3,Kg8,Bg5,Nfd7,Bxe7,Rxe7,Nd5,Rf7,c4,Nc6,a3,Nf6,Nxf6+,Qxf6,b4,Qg6,Qb3,Bh3,Nh4,Qh5,gxh3,Qxh4,c5,Nd4,Qa2,Nf3+,Kg2,Ng5,f4,Qxh3+,Kg1,Nf3+,Rxf3,Qxf3,Rf1,Qg4+,Kh1,Rf8,cxd6,cxd6,Qd5,Kh8,Qxd6,Rxf4', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/hgQe3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hGqQI', 'Rapid', 'Soumasis', 1938, 'Pedro_37', 1998, 'd4,d5,Bf4,g6,Nc3,e6,e3,Bg7,h4,a6,Be2,Nc6,Nf3,Bd7,Qd2,Qb8,Ne5,Nxe5,dxe5,Qa7,h5,O-O-O,O-O-O,Ne7,hxg6,hxg6,Bd3,f5,Ne2,c6,Nd4,c5,Nf3,c4,Be2,Nc6,Qc3,b5,a3,Rxh1,Rxh1,Bf8,Ng5,a5,Nf7,Re8,Nd6+,Bxd6,exd6,b4,axb4,axb4,Qe1,Qa1+,Kd2,Qxb2,Qc1,Qc3+,Kd1,e5,Bg5,Kb7,Rh7,Kc8,Qd2,Qa1+,Qc1,Qxc1+,Kxc1,d4,Rg7,dxe3,Bxe3,Re6,Bc5,b3,Bxc4,Rf6,Bxb3,Nd4,Bd5,Nc6,Kd2,Nd8,Bb6', 'Rxd6,Bxd8,Rxd5+', 'https://lichess.org/training/hGqQI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HgSiV', 'Rapid', 'narodnokolo', 1691, 'raulchess123', 1710, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,c6,Bc4,Bd7,O-O,Nf6,Bg5,Be7,Bxf6,Bxf6,Qxd6,Be7,Qf4,O-O,Rad1,Qe8,Qc7,Be6,Bxe6,fxe6,Qxb7,Rb8,Qxa7,Rxb2,Rd7,Rf7,g4,Rxc2,Nd1,Rxa2', 'Rxe7,Qxe7,Qxa2', 'https://lichess.org/training/HgSiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HgSr5', 'Rapid', 'Levon_Carlsen', 2310, 'hooooloooo', 2054, 'd4,Nf6,Nf3,e6,c4,b6,g3,Bb4+,Bd2,Bxd2+,Qxd2,Bb7,Bg2,d5,Ne5,O-O,O-O,Nbd7,Nxd7,Nxd7,Nc3,c5,dxc5,Nxc5,b4,Na6,a3,Nc7,Rfd1,Qf6,cxd5,exd5,Nxd5,Nxd5,Bxd5,Rfd8,e4,Bxd5,exd5,Rd6,Rac1,Rad8,Rc6', 'Rxc6,dxc6,Rxd2', 'https://lichess.org/training/HgSr5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hGtKn', 'Rapid', 'JEET007', 1815, 'gugabom', 1880, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,g6,Bg5,Bg7,Bd3,O-O,O-O-O,Nc6,a3,Nxd4,Qf2,h6,Be3,Ng4,Qg3,Nxe3,Qxe3,Bf5,Bxf5,gxf5,Nf3,e5,g4,Qf6,Rhg1,f4,Qe4,Nxf3,Qxf3,Qg5,Ne4,Qg6,h4,Rad8,g5,h5,Nf6+,Bxf6', 'gxf6,Rxd1+,Qxd1', 'https://lichess.org/training/hGtKn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HgTwN', 'Rapid', 'wangbuu', 1962, 'O-chess', 1918, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,Bb4,a3,Bxc3+,bxc3,Nxe4,Bb2,O-O,Bd3,Nf6,O-O,e4,Bxe4,Nxe4,Qd3,Nf6,c4,d6,Ng5,h6', 'Bxf6,hxg5,Bxd8', 'https://lichess.org/training/HgTwN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HGVYb', 'Blitz', 'ELy7', 2260, 'Samihoujeyri', 1946, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Be3,Bd7,Nf3,Rc8,dxc5,a5,Nbd2,Nge7,Bd3,Ng6,Bd4,Qc7,Qe2,Nf4,Qf1,Nxd3+,Qxd3,Be7,O-O,a4,b4,axb3,axb3,O-O,b4,f6,Rfe1,fxe5,Nxe5,Bf6,Ndf3,Be8,Nxc6,Qxc6,Bxf6,Rxf6,Ne5,Qc7,g3,Bg6,Qd4,Rcf8,f4,Be4,Ra7,h5,c6,Rb8,b5,h4,b6,Qd6,c7,Rc8,Rxe4,hxg3,hxg3,Qe7,Re3,Rh6,Kg2,Qf8,Rxb7,Qf5,Rb8,Qh3+,Kf3,Qh5+,Kf2,Qh3,Rxc8+,Kh7,Qd3+,g6,Rd8,Qh2+,Kf3', 'Qh1+,Ke2,Rh2#', 'https://lichess.org/training/HGVYb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HgWn3', 'Classical', 'bluenotewitt', 1612, 'smaifat', 1632, 'e4,e5,Nf3,d6,Nc3,c6,d4,exd4,Nxd4,c5,Nf3,h6,Bc4,Qa5,Bd2,Qb6,b3,Nc6,Nd5,Qd8,O-O,Be6,Bb5,a6,Bc4,b5,Be2,Be7,Nf4,Nf6,Nxe6,fxe6,c4,b4,Qc2,Qc7,h3,O-O,Bc1,a5,Bb2,e5,Rfd1,Nh5,Nd2,Nf4,Bg4,h5,Bf3,Qd7,a3,bxa3,Rxa3,g6,Bc3,Ne6,Rb1,Ned4,Bxd4,exd4,e5,Nxe5,Bxa8,Rxa8,Ne4,Qf5,Qd2,Qxe4,Re1,Qf5,Rxa5,Rxa5,Qxa5,Kf7,Qd2,Bg5,Qa5,Ke6,Qa8,Qf7,Qd5+,Kf6,Qxd6+,Qe6,Qxc5', 'Nf3+,gxf3,Qxe1+', 'https://lichess.org/training/HgWn3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HgYBg', 'Rapid', 'zosima', 1639, 'infinitegambit', 1608, 'e4,e5,Nf3,f5,d4,fxe4,Nxe5,Nf6,Bg5,Bd6,Nc3,O-O,Nxe4,Qe8,Nxf6+,gxf6,Be3,fxe5,Qg4+,Qg6,Bc4+,Kh8,Qh4,Re8,Bg5,exd4+,Kd2,Bb4+,Kd1,Bf8,Bd3,Qg8,Qh5,Bg7', 'Bxh7,Qxh7,Qxe8+', 'https://lichess.org/training/HgYBg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HGyly', 'Rapid', 'sherryboo', 1694, 'KylianMbappe2019', 1687, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nc6,Nf3,Nf6,Bb5,Bb4,O-O,O-O,Bd2,Bg4,a3,Bxc3,Bxc3,Ne4,Bb4,Nxb4,axb4,Bxf3,Qxf3,Nd2,Qf5,Nxf1,Kxf1,c6,Bd3,g6,Qh3,f5,c4,dxc4,Bxc4+,Kh8,Rd1,b5,Bb3,a5,bxa5,Rxa5,Qc3,Kg7', 'd5+,Qf6,Qxa5', 'https://lichess.org/training/HGyly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hgz9h', 'Rapid', 'Dymytry', 2094, 'Lahmer', 2193, 'd4,Nf6,c4,e6,Nf3,b6,Nc3,Bb4,Qc2,Bb7,a3,Bxc3+,Qxc3,O-O,g3,d6,Bg2,Nbd7,O-O,Qe7,b4,c5,dxc5,dxc5,Bb2,Rac8,b5,Rfe8,Rad1,Rcd8,Rd2,Qf8,Qe3,Ne4,Rxd7,Rxd7,Ne5,Rdd8,Bxe4,Bxe4,Qxe4,Qd6,Nc6,Rd7,Qg4,f5,Qh4,Qd2,Be5,Qxe2,Bb8,Rd1,Qh3,f4,Bxa7,f3,Bxb6,Ra8,Bxc5,Ra4,b6,Rxc4,b7,Rxf1+,Qxf1', 'Qxf1+,Kxf1,Rc1#', 'https://lichess.org/training/Hgz9h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hgZ9z', 'Blitz', 'CM sodabread', 2258, 'JonasB', 2196, 'e4,c5,Nc3,g6,f4,Bg7,Nf3,e6,e5,d6,Ne4,dxe5,fxe5,Ne7,Nd6+,Kf8,d4,cxd4,Ng5,Qa5+,Kf2,Qxe5,Ndxf7,Qf5+,Qf3,Rg8,Nd6,Qxf3+,gxf3,Nbc6', 'Nxh7#', 'https://lichess.org/training/hgZ9z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hh0Yv', 'Rapid', 'mixgr', 2386, 'amateur1964', 1989, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,e6,Nf3,Bd6,Bg3,Qc7,O-O,Bxg3,fxg3,a6,Nbd2,O-O,Ng5,h6,Rxf6,gxf6,Nh7,f5,Nxf8,Kxf8,Qh5,Kg7,g4,Ne7,Rf1,Bd7,gxf5,exf5,g4,Rg8,gxf5,Kf8+,Kh1,Qd6,f6,Ng6,Qxh6+,Ke8,Bxg6,Rxg6,Qh8+,Qf8,Qh4,Qh6,Qe1+,Be6,Nb3,Rxf6,Rxf6,Qxf6,Nc5,Qf3+,Kg1,Qg4+,Qg3,Qd1+,Kg2,Qe2+,Qf2', 'Bh3+,Kxh3,Qxf2', 'https://lichess.org/training/hh0Yv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HH2EQ', 'Rapid', 'CuteePie', 1753, 'AbdulrahmanChess', 1716, 'd4,d5,Nc3,c6,Bg5,h6,Bh4,g5,Bg3,Nf6,Be5,Bg7,Nf3,Bf5,h3,Nbd7,e3,Nxe5,Nxe5,Nd7,f4,Nxe5,fxe5,f6,Qh5+,Kf8,g4,Bxc2,Be2,Qe8,exf6,Qxh5', 'fxg7+,Kxg7,gxh5', 'https://lichess.org/training/HH2EQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hh2LK', 'Classical', 'suleyman6235', 1658, 'yahia3v', 1655, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,Nxe4,Bd3,d6,Nf3', 'Nc3+,Be3,Nxd1', 'https://lichess.org/training/hh2LK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HH3tD', 'Rapid', 'PopeUnkown', 1785, 'Shakib_Minhaj', 1789, 'd4,d5,e3,Bf5,Nf3,Nf6,a4,e6,Bd2,Ne4,b4,Nxd2,Qxd2,Nc6,c3,a5,b5,Nb4,Na3,Qf6,Be2,Qg6,O-O,Bh3,Nh4,Qg5,cxb4,axb4,Nc2,Qxh4,gxh3,Qxh3,Ne1,Bd6,f4,g5,Ng2,gxf4,Nxf4', 'Rg8+,Kh1,Bxf4', 'https://lichess.org/training/HH3tD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hH8My', 'Rapid', 'juanlofer', 1656, 'metintoprak', 1886, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Be7,d3,Nf6,Ne2,O-O,a3,d5,exd5,exd5,Ba2,Bg4,Ng3,Nd4,Be3,Nxf3+,gxf3,Bh3,Qe2,d4,Bd2,Re8,O-O-O,Bd6,Ne4,Nxe4,dxe4,a6,Bd5,Rb8,Rdg1,Bc7,f4', 'Qxd5,exd5,Rxe2', 'https://lichess.org/training/hH8My');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HH8R7', 'Rapid', 'Heshammostafa', 1645, 'vasyavoron', 1759, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d4,Bd6,Nc3,c6,h3,O-O,Nf3,Re8+,Be3,b6,a3,Ba6,Qd2,Nbd7,O-O-O,Ne4,Nxe4,Rxe4,Ng5,Re8,f4,h6,Nf3,Nf6,g4,Ne4,Qe1,Qc7,Ne5,Bxe5,fxe5,Bc4,Bxc4,dxc4,Rf1,c5,h4,cxd4,Bxd4,b5,Qxe4,b4,axb4,a5,b5,Qb8,b6,a4,g5,a3,gxh6,axb2+,Kxb2,Qd8,h7+,Kh8,Rxf7,Re6,Qg4,Rxb6+,Bxb6,Qxb6+,Kc1,Qe3+,Kb1,Qb6+,Kc1,Qe3+,Rd2', 'Ra1+,Kb2,Qa3#', 'https://lichess.org/training/HH8R7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hh8ST', 'Rapid', 'RnMZodiac', 1658, 'grappy', 1663, 'c4,Nf6,d4,c6,Nc3,d6,e4,g6,Nf3,Bg7,Be2,O-O,O-O,Nbd7,e5,dxe5,dxe5,Ne8,Bf4,e6,Re1,f6,exf6,Nexf6,Bg5,Qe8,Nd4,Nc5,Bf3,e5,b4,Ncd7,Bxf6,Nxf6,a3,Nd7,Bg4,Rf4,Be6+,Kh8,Bxd7,Bxd7,Nf3,Bg4,Ne2,Rxc4,Rc1,Rxc1,Nxc1,Bxf3,Qxf3,Rd8,Kf1,Rd4,Nd3,e4,Qe3,Qd7,Nc5,Qd5,Nxe4,Rd3,Qxa7,h6,Qb8+,Kh7,Nf6+,Bxf6,Qf4,Qd7,Qxf6,Rd1,Ke2,Rd2+,Kf3,Qd5+,Kg3,Rd3+,f3,Qg5+,Qxg5,hxg5,Re7+,Kh6,Rxb7,Rxa3,Kg4,Rb3,g3,c5,Rb5', 'Rxb4+,f4,Rxb5', 'https://lichess.org/training/hh8ST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hH8VO', 'Classical', 'KOBa7', 1614, 'B321', 1805, 'e3,e5,b3,d5,Bb2,Bd6,f4,e4,Bxg7,Nh6,Bxh8,Nf5,Nc3,Qh4+,Ke2,Ng3+,hxg3,Bg4+,Nf3,exf3+,gxf3,Bxf3+,Kxf3,Qxh1+,Bg2,Qh5+,g4,Qg6,Bd4,c5,Be5,Bxe5,fxe5,Nc6,Nxd5,Nxe5+,Kg3,Kf8,Nf4,Qg7,d4,Rd8,Qe2,cxd4,exd4,Rxd4,Bxb7,Rxf4,Kxf4,Ng6+,Kg3,Qxa1,Qd2,Qxa2,Qd8+,Kg7,Qd4+,Kg8,Be4,Qa3,g5,Qe7,Qd5,Qc7+,Kg4', 'Qf4+,Kh3,Qh4+,Kg2,Nf4+,Kf1,Nxd5', 'https://lichess.org/training/hH8VO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hH9rw', 'Rapid', 'Pawnanza', 1610, 'gusman2001', 1673, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Qa4+,Bd7,Bb5,Nf6,Bg5,Nxe4,Bxd7+,Qxd7,Qxe4,Qb5,Bd2,Qxb2,Bc3,Qc1+,Ke2,Qxh1,Qa4+,Kd8,Ba5+,b6,Bxb6+,axb6,Qxa8+,Kd7,Qb7+,Ke6,h3,g6,Qe4+,Kd7,Qd4,e5,Qe4,Bg7,a4,Ke6,Qb4,Qxg2,Ra3,Qc6,Rc3,Qd7,Na3,Rc8,Rxc8,Qxc8,Qxb6,f5,a5,e4,a6,Bd4,Qxd4,Qxa6+,Qc4+,Qxc4+,Nxc4,d5,Nb6,h5,h4,Ke5,Nd7+,Kf4,Nf6,d4,Nd5+,Kg4,Ne7,Kxh4,Nxg6+,Kg5,Ne5,h4,Kf1,Kf4,Nc6', 'd3,cxd3,exd3,Nd4,d2', 'https://lichess.org/training/hH9rw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hhasT', 'Rapid', 'Rousseau12', 2241, 'iamtheteacher', 2172, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bb7,d4,Nxd4,Nxd4,exd4,Qxd4,c5,Qe5+,Be7,c4,O-O,Bc2,b4,b3,Bxe4,Bxe4,Nxe4,Qxe4,Bf6,Bg5,Bxg5,a3,a5,axb4,axb4,Rxa8,Qxa8,Qf5,Be7,Qxd7,Bf6,Qb5,Qa2,Qxc5,Qxb3,Nd2,Qb2,Ne4,Bd4,Qb5,Bc3,c5,b3,c6,Be5,Nc5,Rb8,Rd1,Bc7', 'Qxb8+,Bxb8,Rd8#', 'https://lichess.org/training/hhasT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HhB1G', 'Rapid', 'DOBLEH', 1818, 'DRook', 1778, 'e4,e5,Bc4,Nc6,Nf3,Bc5,d3,Nf6,h3,h6,a3,O-O,Be3,b6,Bxc5,bxc5,Nc3,Bb7,Nd5,d6,O-O,Nd4,Nxf6+,Qxf6,Nxd4,cxd4,f4,exf4,Qf3,c6,Qxf4,Qg6,Rae1,d5,exd5,cxd5,Bb3,Rad8,Qxd4,Bc8,Re3,Qg5,Ref3,Rd6,Qxa7,Rg6,R1f2,Qc1+,Kh2,Qxb2,Bxd5', 'Qe5+,Kh1,Qxd5', 'https://lichess.org/training/HhB1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hhb1j', 'Blitz', 'ArazUniMaraghe', 2152, 'Lionel10_Messi10', 2362, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be6,Bg5,h6,Bxf6,gxf6,Nd5,f5,exf5,Bxf5,Bd3,Be6,c4,Nd7,O-O,Rg8,Kh1,Qg5,Qd2,O-O-O,Qxg5,hxg5,Rac1,Kb8,Rfd1,Rh8,Kg1,f5,Bf1,Bg7,c5,Nxc5,Nxc5,dxc5,Rxc5,Bf8,Ra5,b6,Rxa6,Bc5+,Kh1,Rxh2+,Kxh2', 'Rh8+,Kg3,f4+,Nxf4,gxf4#', 'https://lichess.org/training/Hhb1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHbMl', 'Rapid', 'aladin_lt', 1820, 'GurujitMedhi47', 2028, 'e4,e5,d4,Nc6,d5,Nce7,Nf3,d6,Be2,f5,Bg5,fxe4,Nfd2,h6', 'Bh5+,g6,Bxg6+,Nxg6,Bxd8', 'https://lichess.org/training/hHbMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHBSN', 'Rapid', 'zbab2', 1935, 'PierreC', 1936, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,O-O,Be3,e5,d5,Nbd7,Nge2,Nc5,Bc2,Ng4,Bd2,Qh4,Ng3,Nf6,b4,Ncd7,f3,Nb6,Qc1,Nxc4', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/hHBSN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HhBVJ', 'Classical', 'Kuro_ishida', 1810, 'sharpshooter1', 1798, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e5,Nf5,Bxf5,exf5,Be7,Bc4,O-O,O-O,Nbd7,Be3,b5,Bb3,Rc8,Qe2,Qc7,Rac1,Nc5,Nd5,Nxd5,Bxd5,Bf6,b3,Nb7,f4,exf4,Bxf4', 'Qc5+,Kh1,Qxd5', 'https://lichess.org/training/HhBVJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HHbXi', 'Classical', 'Carabas', 2186, 'Karpuz77', 2120, 'e4,c5,f4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Bc4,e6,O-O,Nc6,h3', 'Bxf3,Qxf3,Qd4+,Qf2,Qxc4', 'https://lichess.org/training/HHbXi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hhc1i', 'Blitz', 'Livio_L', 2252, 'molibdenowy_tadeusz', 2247, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,d4,Bd6,Re1,Qh4,g3,Qh3,Re4,g5,Qf1,Qh6,Nd2,f5,Re1,f4,Ne4,fxg3,hxg3,Be7,Qg2,Bh3,Qh1,Kh8,Bd2,Nf4,Bxf4,gxf4,Qh2,fxg3,Nxg3,Bd6,Re6,Bxg3,fxg3,Qg5,Qxh3,Rf3,Kg2,Raf8,Re2,Qf6,Kg1,Rf2,Rae1,Qf3,Qh2', 'Rf1+,Rxf1,Qxf1#', 'https://lichess.org/training/Hhc1i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HHc4S', 'Rapid', 'Anku6323', 1814, 'Chirag45', 1740, 'd4,Nf6,Nf3,d5,Bf4,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Be7,h3,c5,c3,Nc6,Nbd2,O-O,O-O,Qb6,Qc2,Rac8,Ne5,Nh5,Bh2,cxd4,Nxc6,Rxc6,Qd1,dxc3,bxc3,Nf6,Rb1,Qa5,Rxb7,Re8,Nf3,Rxc3,Qb1,Ne4,Rc1,Rxc1+,Qxc1,Qxa2,Nd4,Qxf2+,Kh1,Bg5,Qc7,Bxe3,Nf3,Rf8,Rb8,Qf1+,Bg1,Ng3+,Kh2,Bxg1+,Nxg1,Ne4', 'Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/HHc4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HhD2o', 'Blitz', 'NM Sunrisebyself', 2202, 'dumbchess7', 2178, 'e4,e6,d4,d5,exd5,exd5,Nf3,c6,Be2,Nf6,O-O,Be7,h3,Ne4,Re1,f5,c4,O-O,cxd5,cxd5,Nc3,Nc6,Qb3,Nxc3,bxc3,a6,Ba3,Bxa3,Qxa3,Qa5,Qb3,Qd8,Ne5,Nxe5,dxe5,b5,Bf3,Be6,Rad1,Qa5,Rxd5,Bxd5', 'Bxd5+,Kh8,Bxa8', 'https://lichess.org/training/HhD2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HhdoW', 'Rapid', 'AttN', 1721, 'hrndmrc80', 1738, 'd4,e6,Nc3,Nf6,a3,d5,Nf3,c6,h3,Bd6,e3,Nbd7,Bd3,e5,dxe5,Nxe5,Nxe5,Bxe5,O-O,Be6,Bd2,Qd7,Qf3,h5,Ne2,Bxb2,Rab1,Bxa3,Nd4,O-O,Nxe6,Qxe6,Bc3,Ne4,Bxe4,dxe4,Qxh5,b5,Qg5,Qg6,Qf4,a6,Bd4,c5,Bc3,c4,Bd4,Bd6,Qh4,Rfe8,c3,f5,Ra1,Rf8,f3,f4,fxe4,f3,g4,Qxe4,Qg5,Qh7', 'Qd5+,Kh8,Qxd6', 'https://lichess.org/training/HhdoW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HhDR3', 'Rapid', 'dikkietee', 1690, 'boleg', 1687, 'e4,c5,Nf3,Nc6,Bb5,e6,d4,cxd4,Nxd4,a6,Nxc6,bxc6,Ba4,Qa5+,Nc3,Bb4,Bb3,Bxc3+,bxc3,Qxc3+,Bd2,Qd4,O-O,Qxe4,Re1,Qg6,Qf3,Nf6,Bb4,Nd5,Bxd5,cxd5,Qxd5,Rb8,Qd6,Rxb4,Qxb4,f6,Qb8,Kf7,Qc7,Qf5,Rad1,e5,Qc4+,Qe6,Qc7,Qc6,Qb8', 'Bb7,Qxb7,Qxb7', 'https://lichess.org/training/HhDR3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HHDXM', 'Blitz', 'MrKooshaJ', 2384, 'FM Mortn', 2415, 'Nf3,Nf6,b3,e6,Bb2,d5,e3,c5,Be2,Nc6,O-O,Bd6,c4,d4,exd4,cxd4,Nxd4,Nxd4,Bxd4,Bxh2+,Kxh2,Qxd4,Nc3,a6,Qc2,O-O,Qd3,Rd8,Qxd4,Rxd4,d3,e5,Rad1,Bf5,Bf3,Rxd3,Rxd3,Bxd3,Re1,e4,Nxe4,Nxe4,Bxe4,Re8', 'Bxh7+,Kf8,Rxe8+,Kxe8,Bxd3', 'https://lichess.org/training/HHDXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HhE37', 'Rapid', 'samh2022', 2028, 'Toptiqka', 1994, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,N1e2,Nd7,Nf4,Bh7,Bc4,Ngf6,O-O,e6,Re1,Be7,c3,O-O,Nd3,Bd6,Bf4,Nb6,Bb3,Bxf4,Nxf4,Nbd5,Nd3,Qc7,Ne5,Rad8,Bc2,Bxc2,Qxc2,c5,Rad1,cxd4,Rxd4,Nb6,Qd2,Rxd4,cxd4,Rd8,Rc1,Qb8,Qb4,Nbd5,Qc5,Nb6,Qc7,Qxc7,Rxc7,Rxd4,Rxb7,Rd2,Rb8+,Kh7,Nxf7,Rxb2', 'Rh8+,Kg6,Ne5#', 'https://lichess.org/training/HhE37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HhEGo', 'Blitz', 'Yunkor', 2164, 'peor2', 2124, 'e4,e6,Nf3,d5,Nc3,Nf6,exd5,Nxd5,d4,Bb4,Bd2,Nc6,Bd3,Bd7,O-O,Qf6,Qe1,Bxc3,bxc3,h6,Rb1,O-O-O,c4,Nf4,d5,exd5,Bxf4,Qxf4,cxd5,Nd4,Ne5,Rde8,Qb4,Rxe5,Qxb7+,Kd8,Qa8+,Bc8,Rb8,Nf3+,gxf3', 'Rg5+,Kh1,Qxf3#', 'https://lichess.org/training/HhEGo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HhGzY', 'Blitz', 'antooonio97', 2297, 'IM Alenee', 2352, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,a3,a6,Be3,b5,Qd2,Bb7,f3,Nf6,g4,Nxd4,Bxd4,e5,Be3,b4,axb4,Bxb4,g5,Nh5,Bh3,O-O,O-O-O,Bxc3,Qxc3,Qxc3,bxc3,Rfc8,Kb2,Rab8,Ba7,Bxe4+,Bxb8,Rxb8+,Kc1,Bxf3,Bxd7,Bxh1,Rxh1,Nf4,Kd2,Kf8,Ra1,Ke7,Bf5,Rb6,c4,g6,Be4,Ne6,Ra5,Kd6,Rd5+,Ke7,Rxe5,Rd6+,Ke3,Rd1,c5,Kd7,c6+,Kc7,Ra5,Kb6,Ra2', 'Re1+,Kd3,Nc5+', 'https://lichess.org/training/HhGzY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHi86', 'Classical', 'Naresh546', 1634, 'r3uk', 1691, 'e4,c5,Nf3,Nc6,Bc4,g6,Nc3,Bg7,h3,e5,d3,Nge7,Ng5,O-O,Qg4,d5,Qh4,h6,exd5,hxg5,Bxg5,f6,Bh6,g5,dxc6+,Rf7,Bxf7+,Kxf7,Qh5+,Kg8,O-O-O,Nf5,Bxg7,Nxg7,Qf3,Rb8,c7,Qxc7,g4,b5,h4,b4,Ne4,Qf7,hxg5,f5,Nf6+,Kf8,b3,Bb7,Rh8+,Ke7,Qh3,Rxh8,Qxh8,fxg4,Rh1,Bxh1,Qxh1,Ne6,Qb7+,Kf8,Nh7+,Kg7,Qxf7+,Kxf7,Nf6,Nxg5,Nxg4,Ke6,Kd2,Kf5,f3', 'Nxf3+,Ke3,Kxg4', 'https://lichess.org/training/hHi86');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHJgz', 'Rapid', 'Shikhar123', 1907, 'CapablancaRevolution', 1945, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bb5,Bd7,Nxc6,bxc6,Bc4,g6,O-O,Bg7,Bg5,O-O,Qd2,Rb8,Rab1,Qa5,Bh6,Qh5,Bxg7,Kxg7,Qe2,Ng4,h3,Ne5,Qxh5,gxh5,Bb3,Rg8,f4,Ng6,Rbe1,Kf8,Re2,Bxh3,f5,Ne5,f6,e6,Rd2,Ke8,Kh2,Bxg2,Rxg2,Kd7,Rd2,Ng4+,Kh1,Ne3,Re1,Rg3,Rd3', 'Rh3+,Kg1,Rg8+,Kf2,Rg2#', 'https://lichess.org/training/hHJgz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HHlgw', 'Classical', 'gumbitter', 1769, 'chennaiguy', 1644, 'c4,Nf6,Nc3,c5,g3,Nc6,Bg2,g6,Rb1,Bg7,a3,a5,Nb5,Na7,Nxa7,Rxa7,b4,cxb4,axb4,axb4,Rxb4,Qa5,Qb3,d5,cxd5,O-O,Nh3,Bxh3,Bxh3,Qxd5,O-O,Qxb3,Rxb3,Rb8,d3,b5,Be3,Ra2,Re1,Nd5,Bc5,e6,d4,Bf8,Bxf8,Kxf8,e4,Nf6,f3,b4,Reb1,Ra4,Bf1,g5,Bd3,h5,Bc2,Ra2,Bd1,g4,Rxb4', 'Rxb4,Rxb4,Ra1,Kf2,Rxd1', 'https://lichess.org/training/HHlgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HHLsY', 'Rapid', 'Chema_rr', 2022, 'TonyG365', 2038, 'e4,Nc6,d4,e5,d5,Nce7,c4,Ng6,Nc3,Bb4,Qb3,Bxc3+,Qxc3,d6,Bd3,b6,Ne2,N8e7,O-O,O-O,f4,h6,f5,Nh8,f6,Neg6,Ng3,gxf6,Bxh6,Kh7,Bxf8,Qxf8,Nf5,Nf4,Rf3,Bxf5,exf5,Qh6,Re1,Rg8,Bf1,Rg5,Qd2,Rh5,g3', 'Nh3+,Bxh3,Qxd2', 'https://lichess.org/training/HHLsY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hhmbL', 'Rapid', 'paulpuzzler', 1702, 'Wangyungchiang', 1811, 'e4,c5,Nf3,Nf6,e5,Nd5,c4,Nf4,d4,Ne6,d5,Nc7,Bd3,g6,O-O,Bg7,d6,exd6,exd6,Ne6,Nc3,O-O,Nd5,Nc6,Re1,Re8,Bd2,Bxb2,Rb1,Bg7,Rxe6,dxe6,Nc7,Qxd6,Nxe8,Qxd3,Nxg7,Kxg7', 'Bh6+,Kxh6,Qxd3', 'https://lichess.org/training/hhmbL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hhmJX', 'Rapid', 'EtYiyenDomuz', 1641, 'Dron64rus', 1640, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd3,d6,Bb5+,Bd7,Bf4,Bxb5,Qxb5+,Qd7,Qxd7+,Nxd7,O-O,Be7,Rd1,Ne5,Nd2,O-O,Bxe5,dxe5,Nc4,Bf6,Rd5,b6,Nxe5,Rfe8,f4,Bxe5,fxe5,Re6,Rf1,Rae8,Rd7,a5,Rdxf7,Rxe5,Rb7,Rxe4,Rxb6,Re2,Rf2,Re1+,Rf1,R1e5,Ra6,c4,Rc6,Re4,Rc5,a4,Ra5,Rb8,Rf2,Re1+,Rf1,Re2,Rxa4,Rexb2,Rf4,Rb1+,Kf2,R8b2+,Kg3,Rd2,Rfxc4,Rd3+,Kh4,Rh1,h3,Rh2,Rc8+,Kh7,Rg4', 'g5+,Rxg5,hxg5+', 'https://lichess.org/training/hhmJX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHo5i', 'Blitz', 'azrat', 1869, 'HUN-vighim', 1913, 'e4,d5,exd5,c6,dxc6,Nxc6,Nf3,Nf6,Bc4,e6,O-O,Bd6,d4,Ng4,h3,h5,Bg5,Qc7,hxg4,hxg4,Nh4,f6,Ng6', 'Bh2+,Kh1,Bg1+,Kxg1,Qh2#', 'https://lichess.org/training/hHo5i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HHOvX', 'Rapid', 'alik27', 1643, 'Tantalosss', 1703, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,d6,d4,exd4,cxd4,Bb6,d5,Ba5+,Bd2,Bxd2+,Nbxd2,a6,Qa4,Bg4,Bxc6+,bxc6,e5,Bxf3,Qxc6+,Kf8,Nxf3,Ne7,Qc3,Nxd5,Qa5,Nb6,Rd1,Nc4,Qb4,Nxe5,Nxe5,Qe7,f4,dxe5,Qxe7+,Kxe7,fxe5,Ke6,Rc1,Ra7,Rf1,Rf8,Rc5,Rb7,b3,Re8,g4,f6,Rc6+,Kxe5,Rxa6,Kd4+,Kd2,Rd8,Rf4+,Ke5+,Ke3,Rd6,Ra5+,Ke6,Re4+,Kf7,Rd4,Rbb6,Rxd6,Rxd6,Ra7,Rd7,b4,Re7+,Kd4', 'c5+,Kxc5,Rxa7', 'https://lichess.org/training/HHOvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHPLB', 'Rapid', 'oxytocinz', 1847, 'chrim', 1945, 'e4,c5,Nf3,d6,Nc3,e6,d4,cxd4,Nxd4,Nf6,g4,e5,Nf5,g6,Ne3,Bg7,Ned5,Bxg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/hHPLB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HhPrR', 'Rapid', 'kekeisen2', 2132, 'myhsnom1230', 2046, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d3,d6,Nbd2,e5,a4,a5,c3,c6,Rb1,h6,b4,axb4,cxb4,Be6,b5,cxb5,Rxb5,Bd7,Rxb7,Bxa4,Nb3,Na6,Ba3,Bc6,Nxe5,Bxg2,Kxg2,dxe5,Bxf8,Qxf8,Qb1,Nc5,Nxc5,Qxc5,Rc1,Qd5+,f3,g5,Rc4,g4,e4,gxf3+,Kxf3,Qe6,h3,Qxh3,Rcc7,Qg4+,Kf2,Qg6,Rxf7,Qxf7', 'Rxf7,Kxf7,Qb7+,Kg6,Qxa8', 'https://lichess.org/training/HhPrR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hhqil', 'Rapid', 'OeilDeFaucon', 1891, 'Philippe2582', 1803, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,Nc6,Bd3,Bd6', 'Bg5,Qxd4,Nxd4', 'https://lichess.org/training/Hhqil');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HHRq1', 'Rapid', 'javinigue', 2066, 'Arash139595', 2058, 'e4,g6,d4,Bg7,c4,d6,Nc3,Nf6,f4,O-O,Nf3,Nbd7,Be3,e5,fxe5,dxe5,d5,Ng4,Bg1,f5,h3,Ngf6,exf5,gxf5,Ng5,Nb6,Bc5,Re8,Be2,Nfxd5,Nxd5,Nxd5,Qxd5+,Qxd5,cxd5,e4,Ne6,Bxe6,dxe6,Bxb2,Rb1,Bc3+,Kf2,b6,Ba3,Kg7,Bc4,c5,Bb2,Bxb2,Rxb2,Rad8,Ke2,Rd4,Rc1,Kf6,a4,Red8,Ke3,Ke5,g3,h5,Rf2,Rg8,g4,hxg4,hxg4,fxg4,Rf4,g3,e7,Re8,Rg4,Rxe7,Rg5+,Kd6,Rxg3,Ke5,Rg4,Rh7,Rg5+,Kf6,Rd5,Rh3+,Kf2,Rxd5,Bxd5,Ke5,Bc4,Kd4,Bb5,e3+,Ke2,Rh2+,Kf3,Rf2+,Kg3,Rf7,Rc4+,Ke5,Rh4,Kd5', 'Bc4+,Ke5,Bxf7', 'https://lichess.org/training/HHRq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHsCD', 'Blitz', 'KAI-TheEye', 1871, 'tenni91', 2197, 'e4,c6,Nc3,d5,Qe2,dxe4,Nxe4,Nf6,Nxf6+,gxf6,Qf3,Qd5,Bc4,Qxf3,Nxf3,Nd7,d3,Ne5,Nxe5,fxe5,Bd2,a5,Bc3', 'b5,Bb3,a4,Bxf7+,Kxf7', 'https://lichess.org/training/hHsCD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hht20', 'Rapid', 'TheAly', 1755, 'Richarh', 1761, 'd4,Nf6,Bf4,g6,e3,Bg7,Nd2,O-O,Ngf3,d6,Be2,Nbd7,O-O,e5,Bg3,e4,Ng5,d5,f3,Nh5,Bh4,Bf6,fxe4,Bxg5,Bxg5,Qxg5,Bxh5,gxh5,Qf3,Kh8,e5,h4,Rae1,Nb6,Qf6+,Qxf6,Rxf6,Be6,b3,Rg8,Ref1,Rg6,Nf3,Bh3', 'Rxg6,hxg6,gxh3', 'https://lichess.org/training/hht20');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHT7M', 'Classical', 'murat60', 1996, 'Liolio', 1985, 'e4,g6,d4,Bg7,Nf3,d6,Bc4,a6,c3,e6,O-O,b5,Bb3,Bb7,Re1,Nd7,Ng5,Qe7,Be3,h6,Nf3,Ngf6,e5,Ng4,exd6,cxd6,Bf4,O-O,Nbd2,e5,dxe5,dxe5,h3,Qc5,Be3,Nxe3,Rxe3,Kh7,Ne4,Bxe4,Rxe4,Qe7,Bc2,f5,Re1,Rad8,Qd5,e4,Qc6,Nb8,Qb6,Rd6,Qc5,Nd7,Qa3,Ne5,Nd4,Nc4,Qc5,Nxb2,f3,e3,Bxf5,gxf5,Nxf5,Rxf5,Qxf5+,Kh8,Qc5,Nc4,a4,Bxc3,axb5,axb5', 'Ra8+,Kg7,Ra7,Qxa7,Qxa7+', 'https://lichess.org/training/hHT7M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHU2w', 'Rapid', 'Sahebde', 2110, 'anasayan', 2090, 'e4,c5,c3,e6,d4,cxd4,cxd4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,Nf3,Be7,O-O,O-O,Bf4,Nc6,Rc1,Nb4,Ne5,Nbd5,Nxd5,Nxd5,Bxd5,Qxd5,a3,b6,Nc6,Bd6,Bxd6,Qxd6,Ne5,Bb7,Qg4,Rac8,Rfd1,Qd5,h4,Rfd8,Rxc8,Rxc8,h5,h6,f3,Rc2,Qf4,f6,Ng6,Kf7,Ne5+,Ke7,Ng6+,Kd7,Nf8+,Ke8,Ng6,e5,Re1,Kd7,dxe5,Qc5+,Qe3,Qxe3+,Rxe3,Rxb2,e6+,Ke8,e7,Rd2,Kh2,Rd7,Rc3,Kf7,Re3,Ke8,Rc3,b5,Re3,a5,Rb3,Bc6,Rc3,Bb7,Rb3,Rd5,Rc3,b4,axb4,axb4,Rc7,Rd7,Rc2,b3,Rb2,Bd5,Kg1,Bf7,Kf2,Rb7,Ke3,Bxg6,hxg6,Kxe7,Kd2,f5,Kc3,f4,Rxb3,Rxb3+,Kxb3,Kf6,Kc4,Kxg6,Kd4,Kf5,Kd5,g5,Kd4,h5,Kd3,Ke5,Kc4,g4,Kd3,Kd5,Ke2,Kd4,Kf2,Kd3,g3,h4,gxh4,g3+,Kg2,Kd4,h5', 'Ke5,h6,Kf6', 'https://lichess.org/training/hHU2w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hhu34', 'Rapid', 'Kholpilova', 2238, 'enok027', 2160, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c4,Nc6,Be3,Nf6,Nc3,Ng4,Qxg4,Nxd4,Qd1,Nc6,Be2,O-O,Rc1,d6,O-O,a6,Qd2,Re8,Rfd1,Qa5,Nd5,Qxd2,Rxd2,Rb8,Nb6,Be6,f4,h5,Bf3,Bg4,Kf2,Bxf3,Kxf3,Red8,a3,Na5,Rcd1,Nc6,b4,Re8,h3,f6,Rd5,Nd8,f5,g5,g4,hxg4+,hxg4,Nf7,Bd4,Nd8,Bc3,Kf7,Rh1,Rh8,Rdd1,Nc6,a4,Rbd8,a5,Ne5+,Bxe5,dxe5,Ke3,e6,fxe6+,Kxe6,c5,Ke7,Rxd8,Rxd8,Rh7,Kf7,Nd5,Kg6,Rh1,Bf8,Rh8', 'Bxc5+,bxc5,Rxh8', 'https://lichess.org/training/hhu34');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHu8X', 'Blitz', 'Peluncur16', 1892, 'Relax4', 2066, 'e4,e5,f4,exf4,Nf3,Nf6,Nc3,d5,e5,Ne4,d4,Bb4,Bd2,O-O,Bd3,Bf5,O-O,Bxc3,bxc3,Nc6,Qe1,g5,Rb1,g4,Bxe4,Bxe4,Nh4,f6,Bxf4,fxe5,dxe5,Qe7,Rxb7,Nxe5,Qg3,Qc5+,Kh1,Qc6,Rbb1,Ng6,Qxg4,Bxc2,Rbe1,Qf6,Nxg6,Bxg6,Rf3,Rae8,Ref1,Qa6,Bh6', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/hHu8X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hhUep', 'Rapid', 'jgg1966', 1626, 'juanm1961', 1743, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,g6,Bc4,Bg7,Qf3,Nf6,Bg5,O-O,O-O,h6,Bxf6,Bxf6,c3,c5,Ne2,Nd7,Nd2,Ne5,Qe3,Bg5,f4,Ng4,Qg3,Bh4,Qd3,Be7,h3,Nf6,f5,Kg7,Qg3,Nh5,Qf2,Bg5,Nf3,Be7,g4,Nf6,Bd3,a6,g5,hxg5,Nxg5,Rh8,Nf4,Nh5,Nxh5+,Rxh5,h4,f6,Ne6+,Bxe6,fxe6,Qh8,Qg2,Rxh4,e5,f5,Bxf5,Rh6,Bxg6', 'Rxg6,Rf7+,Kh6', 'https://lichess.org/training/hhUep');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HhuUZ', 'Rapid', 'Iamdiananatasya', 1805, 'Kkk_p5', 2021, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,e6,Bg5,Be7,Nc3,Nbd7,Qd2,a6,a4,h6,Bh4,Nb6,Ba2,d5,exd5,Nfxd5,Bxe7,Qxe7,O-O,O-O,Rfe1,Nxc3,Qxc3,Nxa4,Qe5,Nb6,d4,cxd4,Nxd4,Nd7,Qg3,Nf6', 'Nf5,exf5,Rxe7', 'https://lichess.org/training/HhuUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hhvxo', 'Rapid', 'pataQ', 1738, 'crazycrab', 1733, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,e6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Be7,c4,Nf6,Nc3,O-O,Bg5,h6,Bxf6,Bxf6,d5,exd5,Nxd5,Qd6,Nxf6+,Qxf6,Re1,Nc6,b3,Rad8,Qe2,Rfe8,Qc2,Rxe1+,Rxe1,Kf8,a3,Re8,Rxe8+,Kxe8,Qe4+,Qe7,Qxe7+,Nxe7,Kf1,Ng6,g3,Ke7,Nd4,a6,Ke2,Ne5,Ke3,g6,h4,Kd6,f4,Nc6,Nxc6,Kxc6,Ke4,Kd6,f5,c6,b4,b6,Kf4,b5,cxb5,axb5,h5,g5+,Ke4,c5', 'bxc5+,Kxc5,Ke5', 'https://lichess.org/training/Hhvxo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HHvYD', 'Blitz', 'jnytro', 1529, 'BEZYJMBLA', 1507, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,Be7,Nf3,O-O,e3,Re8,Bd3,d5,cxd5,Nxd5,Nxd5,Qxd5,Bxe7,Rxe7,O-O,Bd7,Ne5,Nc6,Nxd7,Rxd7,b3,Nb4,Bc4,Qe4,Qe2,Nd5,Rac1,c6,Rfe1,Rf8,f3,Qh4,e4,fxe4,fxe4,b5,exd5,bxc4,dxc6,Rxd4,Rxc4,Qf4,Qxe6+,Kh8,Rxd4', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/HHvYD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHXJQ', 'Blitz', 'juliuspetrovic', 2030, 'Sir_Big_Greek', 2086, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,a6,Qg4,Kf8,Nf3,c5,Rd1,Nc6,Qg3,cxd4,Ne2,Qa5+,Bd2,Bb4,Nexd4,Bxd2+,Rxd2,Qxa2,Nxc6,bxc6,Bd3,Qb1+,Rd1,Qxb2,O-O,a5,Rb1,Qa3,Nd4,c5,Rb3,Qa4,Bb5,Qxd4,Bxd7,Bxd7,Rb7,Rd8,Rfb1,Qe4,Rxd7,Rxd7,Rb8+,Ke7', 'Qg5+,f6,Qxg7#', 'https://lichess.org/training/hHXJQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HHxtN', 'Rapid', 'cdbags1', 1734, 'apoluonas', 1780, 'e4,f5,exf5,Nf6,b3,d5,Bb2,Bxf5,Nf3,Nc6,Bb5,g6,Ne5,Bd7,Nxd7,Qxd7,O-O,a6,Bxf6,axb5,Re1,Rg8,d4,O-O-O,Bg5,h6,Bh4,g5,Bg3,Bg7,c3,b4,Be5,Nxe5,dxe5,Qe6,cxb4,d4,Nd2,d3,Nc4,b5,Nd2,Rgf8,Rc1,g4,Rc5,Qf5,Rf1,e6,f3,Bxe5,fxg4,Bd4+,Kh1,Qxf1+', 'Nxf1,Bxc5,bxc5', 'https://lichess.org/training/HHxtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hhYNv', 'Blitz', 'Djahidchess', 1811, 'henz711', 1805, 'e4,e5,Bc4,Nc6,c3,Nf6,Qb3,Qe7,d3,Na5,Qb5,Nxc4,Qxc4,d6,Na3,g6,Bg5,Bg7,O-O-O,O-O,h4,Be6,Qa4,a6,h5,b5,Qc2,h6,Bxf6,Bxf6,hxg6,Bg5+,Kb1,fxg6,Nf3,Kg7,d4,exd4,cxd4,d5,exd5,Bxd5,Ne5,Qe6,g3,Bxa2+,Ka1,Bb3,Qe4,Bxd1,Rxd1,Qf5,Qd5,Rad8,Qc6,Bf6,f4,Bxe5,fxe5,Qd7,Qe4,Qf5,Qe3,Rfe8,Rh1,g5,g4,Qxg4,e6,Qxe6,Qg3,Qg6,Qxc7+,Qf7,Qh2,Rxd4', 'Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/hhYNv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHyrV', 'Blitz', 'Porkchops-3_99kg', 1712, 'Hirschkron', 1707, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,g6,Nf3,Bg7,Bd3,O-O,O-O,Nbd7,Bg5,c5,c3,Qb6,Qd2,cxd4,cxd4,Re8,Ne5,Nd5,Bc4,e6,Rfe1,Nxe5,dxe5,Bd7,Bxd5,exd5,Bf6,Bc6,Bxg7,Kxg7,Qg5,Re6,Nf5+,Kh8,Nd6,Qc7,Qf4,Rf8,Re3,f6,Rae1,Qe7,exf6,Rfxf6,Rxe6,Rxe6,Rxe6,Qxe6', 'Qf8+,Qg8,Nf7#', 'https://lichess.org/training/hHyrV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHzHn', 'Rapid', 'Vyches', 1720, 'julianrey', 1785, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Bf4,Bb4+,Bd2,Nge7,Bxb4,Nxb4,a3,Nbc6,e3,dxe3,Qxd8+,Nxd8,Bd3,exf2+,Kxf2,O-O,Rd1,Bf5,Bxf5,Nxf5,Rd7,c6,Nc3,Re8,Rad1,Rb8,Ne4,Ne6,Nd6,Nxd6,exd6,f6,b4,Nf4,Re7,Rxe7,dxe7,Kf7', 'Rd8,Kxe7,Rxb8', 'https://lichess.org/training/hHzHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hHzmO', 'Classical', 'eduardobossa', 1688, 'Hotkool', 2133, 'e4,e6,d4,c6,Nf3,d5,e5,Ne7,c3,Nf5,Bd3,Nh4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/hHzmO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hi0NC', 'Rapid', 'avcil', 1956, 'VenomFlo', 1935, 'd4,c5,c4,cxd4,Qxd4,Nc6,Qd3,Nf6,Nc3,e6,Bg5,h6,Bh4,Be7,e3,Qb6,Qc2,O-O,Nf3,g5,Bg3,Nh5,Bd3,Nxg3,hxg3,Kg7,O-O-O,Rh8,Rh2,Bf6,Rdh1,Qd8,Ne4,Ne5,Nxf6,Nxd3+,Qxd3,Qxf6,Qd4,Qxd4,Nxd4,b6,Kc2,Bb7,Nb5,a6,Nd6,Bc6,b3,Rh7,f3,Rah8,Kd3,Kf6,Ne4+,Kg6,Nf2,Rd8,Ng4,Rdh8,Ne5+,Kf6,Ng4+,Kg7,Ne5,f6,Nxc6,dxc6,Kc3,Rd8,Kc2,Kg6,g4,b5,cxb5,cxb5,Rd1', 'Rc7+,Kb2,Rxd1', 'https://lichess.org/training/hi0NC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hI0xK', 'Rapid', 'jonTHEbat', 1750, 'aranhaBR', 1811, 'd4,c6,Nf3,d5,Bf4,Nf6,h3,g6,e3,Bg7,h4,h5,Bd3,e6,Nbd2,Nbd7,c3,Nb6,Qc2,Nc4,Nxc4,dxc4,Bxg6,Qd5,e4,Qd8,Bg5,Qc7,Ne5,fxg6,Nxg6,Rg8,Bf4,Qd8,Bg5,Qc7,Bf4,Qf7,Ne5,Qe7,d5,exd5,exd5,Nxd5,Qg6+,Kd8', 'Bg5,Bf6,Qxg8+', 'https://lichess.org/training/hI0xK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HI4ab', 'Blitz', 'eftihis', 1751, 'icezar', 1632, 'e4,e5,Bc4,Nf6,Nc3,Nc6,Nf3,Bc5,O-O,O-O,a3,h6,b4,Bb6,Na4,d6,Nxb6,axb6,c3,Be6,Qb3,Nxe4,Bxe6,fxe6,Qxe6+,Kh8,Re1,Re8,Qh3,Ng5,Nxg5,Qxg5,d4,Qf6,dxe5,Rxe5,Bb2,Rxe1+,Rxe1,Qf7,c4,Re8,Rxe8+,Qxe8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/HI4ab');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HI4DD', 'Rapid', 'gambitguyx', 1746, 'K0stasP', 1808, 'e4,c5,d4,e6,d5,exd5,exd5,Nf6,c4,d6,Nc3,Be7,Bd3,Bd7,Nge2,O-O,O-O,b5,cxb5,a6,bxa6,Nxa6,a3,Rb8,Bf4,Nc7,Qc2,Ncxd5,Nxd5,Nxd5,Bd2,g6,Rfb1,Bf6,Nc3,Nxc3,Bxc3,Bxc3,Qxc3,Qg5,b4,Bc6,g3', 'Qd5,Be4,Qxe4', 'https://lichess.org/training/HI4DD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hI4r9', 'Rapid', 'vikas1985', 1672, 'Maslinka75', 1752, 'd4,d5,c4,e5,e3,exd4,exd4,dxc4,Qa4+,Nc6,Qxc4,Bb4+,Bd2,Bxd2+,Nxd2,Nxd4,O-O-O,Be6,Qa4+,c6,Nb3,Nxb3+,axb3,Qg5+,Kb1,b5,Qa5,Bxb3,Re1+,Ne7,Nf3,Qf5+,Ka1,O-O,Rxe7,Rad8,Be2,Rde8,Rxe8,Rxe8,Re1,Qc2,Bd3,Rxe1+,Nxe1,Qc1+,Bb1,h6,Nd3,Qf1,Qd8+,Kh7,Nc5+', 'Bc2,Qd3+,Bxd3', 'https://lichess.org/training/hI4r9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hI5OS', 'Rapid', 'Saliu09', 1871, 'nevereverwon', 1846, 'd4,d5,c4,e6,Nc3,c5,cxd5,exd5,dxc5,Bxc5,e4,d4,Na4,Bb4+,Bd2,Qa5,b3,Bxd2+,Qxd2,Qxd2+,Kxd2,Nf6,f3,O-O,Kd3,Nc6,Ne2,Rd8,Nb2,Nb4+,Kc4,Nc2,Rc1,Be6+,Kd3,Nb4+,Kd2,Nxa2,Nc4,Rac8,Nf4,b5,Nxe6,fxe6,Ra1,bxc4,Bxc4,Nb4,Bxe6+,Kf8,Bxc8,Rxc8,Rhc1,Rxc1,Rxc1,a5,Rc8+,Kf7,Rd8,d3,Ra8,Nd7,Rxa5,Ke6,Rb5,Nc2,Kxd3,Ne1+,Kd4,Nxg2,Rh5,h6,Ra5,Nf4,Ra6+,Ke7,b4,Ne6+,Ke3,Nc7,Rg6,Ne6,b5,Nb6,f4,Kf7,f5,Nc4+,Kd3', 'Ne5+,Kc3,Nxg6', 'https://lichess.org/training/hI5OS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hI8bF', 'Rapid', 'saingmaulidi', 2352, 'Cryspon', 2408, 'c4,e5,Nc3,Bb4,Nd5,Be7,b3,Nf6,Nxe7,Qxe7,Bb2,O-O,g3,c6,Bg2,d5,cxd5,cxd5,e3,Bg4,f3,Bf5,Ne2,Nc6,a3,Rfe8,O-O,Rad8,d3,d4,e4,Be6,b4,Nd7,h3,f6,f4,a5,b5,Na7,a4,Rc8,Ba3,Qd8,fxe5,fxe5,Bd6,Bf7,Rxf7,Kxf7,Qb3+,Kg6,Rf1,Nf6,Ba3,h6,h4,Qd7,Kh2,Qe6,Qd1,Ng4+,Kh1,Ne3,Qd2,Rc2,Qe1,Nxf1,Qxf1,Qf7', 'h5+,Kh7,Qxf7', 'https://lichess.org/training/hI8bF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HIbVq', 'Classical', 'KIT08', 2045, 'paxxx17', 1886, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nge2,e6,O-O,Nge7,d3,O-O,Be3,d6,f4,Nd4,Rb1,Nec6,h3,Nxe2+,Nxe2,b5,c3,b4,g4,a5,e5,Bb7,d4,cxd4,Nxd4,d5,c4,Nxd4,Qxd4,Rb8,cxd5,exd5,Rfd1,Qc7,Rbc1,Qe7,Bxd5,Rfd8,Qe4,Bxd5,Rxd5,Qh4,Kg2,Rbc8,Rxd8+,Rxd8,Qf3,a4,Qf2,Qe7,Bb6,Rb8,Bc7,Rc8,Bd6', 'Qb7+,Qf3,Qxf3+,Kxf3,Rxc1', 'https://lichess.org/training/HIbVq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HIc9u', 'Blitz', 'dronge', 1636, 'Ahadizade', 1694, 'b4,d5,Bb2,c6,a4,e6,Na3,Bxb4,Bxg7,Nf6,Bxh8,Ne4,c3,Bxa3,Rxa3,f6,Bg7,Qe7,Bh6,Qxa3,Be3,Nxc3,dxc3,Qxc3+,Bd2,Qc5,e3,e5,Nf3,Bg4,Be2,Nd7,O-O,O-O-O,h3,Be6,Nh4,Rg8,Bg4,Bxg4,hxg4,e4,Nf5,Ne5,Qc1,Qf8,Qb2,Rxg4,Bb4,c5,Qc3', 'Nf3+,Kh1,Qh6+,Nxh6,Rh4#', 'https://lichess.org/training/HIc9u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HIDGK', 'Blitz', 'El-Fripouille', 1931, 'georgehh13', 1940, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Ng4,Bg5,h6,Bh4,g5,Bg3,Bg7,h3,Ne5,Qd2,Nbc6,O-O-O,O-O,Nb3,Be6,f4,Nc4,Bxc4,Bxc4,fxg5,Kh7,gxh6,Bxh6,Bf4,Bxf4,Qxf4,e5,Qf5+,Kg7,h4,Qf6,Qg4+,Qg6,Qf3,Bxb3,h5,Qg5+,Kb1,Be6,h6+,Kh7,Rh5,Qg6,Nd5,Bg4,Nf6+,Kh8,Nxg4,Qxh5', 'Qf6+,Kh7,Qg7#', 'https://lichess.org/training/HIDGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hIF2S', 'Blitz', 'Albek1988', 1825, 'nautilus9', 1881, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,Kf1,O-O,Na3,c6,c4,Bg4,cxd5,Nxd5,Nc4,Bc7,Bg5,f6,Bd2,Nd7,h3,Be6,Qc2,f5,h4,Qf6,Re1,Rae8,h5,N7b6,Nce5,Bd6,Bg5,Nb4,Qd2,Nxd3,Bxf6,Nxe1,Bxg7,Kxg7,Qg5+,Kh8,Ng6+,hxg6,hxg6+,Kg8,Rh8+,Kxh8', 'Qh6+,Kg8,Qh7#', 'https://lichess.org/training/hIF2S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HIhU6', 'Rapid', 'detectiveru', 1601, 'orkutguler', 1660, 'e4,d5,exd5,Qxd5,d4,Qa5+,Bd2,Qb6,c3,Qxb2,Bc4,Qxa1,Nf3,e6,Qc2,Ba3,O-O,Qb2,Qa4+,c6,Nxa3,Qb6,Be3,Qc7,Ne5,Nd7,Bf4,Nxe5', 'Bxe5,Qe7,Bxg7', 'https://lichess.org/training/HIhU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hiiQw', 'Rapid', 'Munuera', 1798, 'B0BY-fisher', 1762, 'e4,e5,Nf3,Nc6,Nc3,Bb4,Bc4,Nf6,d3,O-O,Bg5,h6,Bxf6,Qxf6,O-O,Bxc3,bxc3,d6,d4,Bg4,dxe5,Nxe5,Be2,Rfe8,Nd4,Bxe2,Qxe2,Nc6,Nxc6,bxc6,Qd3,Re5,f4,Rb5,Rab1,Rxb1,Rxb1,Qxf4,Rb7,Qh4,h3,a5,Rxc7,Rb8,Rxc6', 'Rb1+,Kh2,Qf4+', 'https://lichess.org/training/hiiQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HIiXo', 'Blitz', 'FM EleKtRoMaGnIt', 2671, 'snakeice', 2611, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Ne2,c6,g3,d5,c5,Ba5,Bg2,Nbd7,O-O,e5,a3,Bc7,b4,Re8,Bb2,Nf8,b5,e4,a4,Ng6,a5,Bxa5,bxc6,bxc6,Qa4,Bxc3,Bxc3,Bd7,Ba5,Qe7,Rfb1,Reb8,Nc3,h5,Bc7,Rxb1+,Rxb1,h4,Bd6,Qe6,Rb7,h3,Bf1,Qf5,Rb2,a5,Nb1,Qf3,Nd2,Qf5,Nb3,Ne8,Qa3,a4,Nc1,Nxd6,cxd6,Qf6,Na2,Nh4,Nc3,Nf3+,Kh1,Ng5,Kg1,Nf3+,Kh1,Ng5,Kg1,Qf5,Ra2,Qf6,Qc5,Nf3+,Kh1,Ne1,Qb4,Nd3,Qb7,Nxf2+', 'Kg1,Rd8,Rxf2', 'https://lichess.org/training/HIiXo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HiIZN', 'Blitz', 'NM l-____-l', 2463, 'Osvetnik67', 2391, 'd4,d5,c4,e6,Nf3,f5,g3,Nf6,Bg2,c6,O-O,Bd6,Bf4,O-O,Nc3,b6,Bxd6,Qxd6,Qc2,Ba6,cxd5,exd5,Ne5,Nbd7,f4,Rac8,Qa4,Nb8,Rfd1,g6,e3,Ne4,Bxe4,fxe4,b4,b5,Qb3,Nd7,a4,Nxe5,dxe5,Qe7,Nxe4,bxa4,Nf6+,Rxf6,exf6,axb3,fxe7,Bc4,Rxa7,Rb8,Rd7,Re8,Rd2,Kf7,Kf2,Rxe7,Rxe7+,Kxe7,Rb2,Kd6,Ke1,c5,bxc5+,Kxc5,Kd2,Kb4,Kc1,Kc3,Rd2,Bd3,g4,Be4,h4,h6,f5', 'gxf5,gxf5,Bxf5', 'https://lichess.org/training/HiIZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HIjBf', 'Rapid', 'abnkhaledelmasry', 2060, 'chess967863784', 2184, 'f4,d5,d3,Nf6,Nf3,Nc6,e3,Bg4,Be2,e6,O-O,Bd6,d4,Qd7,Ne5,Bxe5,fxe5,Bxe2,Qxe2,Ne4,Nd2,h5,Nxe4,dxe4,b3,g5,Ba3,Ne7,Bxe7,Qxe7,Rf6,O-O-O,c4,c5,Raf1,cxd4,Rxf7,Qc5,exd4,Rxd4,Kh1,Qxe5,Qe3,Kb8,Qc3,Rhd8,Qb4,Rd1', 'Qxb7#', 'https://lichess.org/training/HIjBf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hIjPT', 'Rapid', 'mokoto', 1792, 'dakruchko', 1751, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,b5,a3,Bb7,Bd3,e6,Bg5,Be7,O-O,d5,Re1,dxe4,Nxe4,Qxd4', 'Bxb5+,axb5,Qxd4', 'https://lichess.org/training/hIjPT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HIjuX', 'Rapid', 'H_Gustavo_1980', 1938, 'MartinSzpalek', 1958, 'b3,e5,Bb2,Nc6,Nf3,d6,e3,Bg4,Bb5,e4,Bxc6+,bxc6,h3,exf3,gxf3,Be6,d4,Nf6,Nd2,c5,Qe2,cxd4,exd4,Be7,O-O-O,O-O,Rhg1,Nd5,Qe4,Bf6,f4,Nb6,f5,Bd5,Qg4,Qd7,c4,Qc6', 'Ne4,Bxe4,d5,Bxb2+,Kxb2', 'https://lichess.org/training/HIjuX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HILYQ', 'Blitz', 'Golok_Terbang', 1566, 'Kraljjj', 1617, 'f4,d5,d4,Nc6,e3,Bf5,a3,e6,Nf3,Bd6,Be2,Nf6,O-O,O-O,Nbd2,Ne7,Ne5,c5,c3,Ne4,Bg4,Bxg4,Qxg4,f5,Qf3,Bxe5,fxe5,Qb6,Nxe4,fxe4,Qh3,Rxf1+,Kxf1,Qa6+,Kg1,Rf8,Bd2,Qe2,Qxe6+,Kh8,Qxe7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/HILYQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hIm89', 'Classical', 'waleed1998', 1614, 'danmanning', 1629, 'e4,c5,Nf3,d6,Bc4,e6,d3,a6,Nc3,Nf6,Bg5,Be7,Nh4,Nbd7,Qf3,Rb8,a4,O-O,O-O,Ne5,Qg3,Nh5,Bxe7,Qxe7,Qh3,Nf4,Qg3,Nh5,Qh3,Bd7,Nf5,exf5,Qxh5,fxe4,Nxe4,Nxc4,Ng5,Bf5,dxc4,Bg6,Rfe1,Qf6,Qg4,Qxb2,Qd7,Rfd8,Qc7,Qxc2,Re7,Qf5,Rae1,Qxg5', 'Qxd8+,Rxd8,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/hIm89');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hinke', 'Rapid', 'Butron', 1891, 'prashant_s2803', 2021, 'd4,d5,Nc3,Nf6,Bg5,Bg4,h3,Bh5,Nf3,c5,dxc5,Nc6,e3,e6,Bb5,Bxc5,O-O,Qb6,Bxf6,gxf6,a4,Rg8,b3,O-O-O,Be2,d4,exd4,Bxf3,Bxf3,Nxd4,Qd3,Rg6,Ne2,e5,Rad1,Qe6,Nxd4,Bxd4,c3', 'Bxf2+,Rxf2,Rxd3', 'https://lichess.org/training/Hinke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HIorm', 'Blitz', 'blitzatack', 2098, 'ttoorr', 2054, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,b4,Bxb4,c3,Ba5,Qb3,Qe7,d4,Nh6,Ba3,exd4,cxd4,O-O,e5,Bb6,exd6,cxd6,Re1,Qd8,Nbd2,Nf5,Rad1,Nfxd4,Qd3,Nxf3+,Nxf3,Bg4,Qe4,Bxf3,Qxf3,Qh4,Re4,Qg5,Bxd6,Rfd8,Bxf7+,Kh8,Bf4,Rxd1+,Qxd1,Qf5,Qd5,Rd8', 'Qxd8+,Nxd8,Re8#', 'https://lichess.org/training/HIorm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HiPFZ', 'Blitz', 'FM ragetilt', 2525, 'checkomatto', 2426, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,d3,Rb8,f4,b5,Nf3,b4,Ne2,Nh6,O-O,O-O,h3,f5,Rb1,d6,Be3,Bd7,Qd2,e6,e5,Qc7,exd6,Qxd6,c3,a5,d4,c4,Kh2,Ne7,Ne5,Nd5,Bf2,Rfc8,Ng1,Nf7,Ngf3,a4,Rbe1,a3,bxa3,bxc3,Qc2,Rb2,Qc1,Rcb8,Nxf7,Kxf7,Ne5+,Bxe5,dxe5,Qxa3,Kg1,Qxa2,Rd1,Bc6,Rxd5,Bxd5,Bxd5,exd5,e6+,Ke7,Qxc3,Re2,Qg7+,Kxe6,Qc7,Rbb2,Qc6+,Ke7,Qc5+,Ke6,Rd1,Rb1,Qc6+,Ke7,Bc5+,Kf7,Qxd5+,Kg7,Qd7+,Kh6', 'Bf8+,Kh5,Qxh7#', 'https://lichess.org/training/HiPFZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hiPLV', 'Blitz', 'Killerki15', 1571, 'KHULUBUSIR', 1528, 'e4,d5,e5,d4,f4,Nc6,Nf3,f5,b3,e6,Bb2,b6,d3,Bb7,Nbd2,Qe7,Qe2,O-O-O,O-O-O,Qe8,g3,Nb4,a3,Nd5,Bh3,g6,Kb1,Bc5,g4,Qe7,Nxd4,Bxa3,gxf5,exf5,Ka2,Bxb2,Kxb2,Nb4,Nb5,Bxh1,Nc4,Bc6,Nxa7+,Kb7,Nxc6,Nxc6,Bg2,Qc5,e6,Ne7,c3,Nd5,d4,Nxf4,Qf3,Qb5,e7,Rhe8,Na3,Rxe7,Nxb5,Re2+,Ka3', 'Ra8+,Na7,Rxa7#', 'https://lichess.org/training/hiPLV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hIqAV', 'Rapid', 'WilliamNTN', 1629, 'IIKamusII', 1657, 'e4,e6,d4,d5,e5,c5,c3,a6,Nf3,f6,Bf4,Nc6,Nbd2,Qb6,b3,cxd4,cxd4,Nxd4,Bd3,Bc5,O-O,Qc7,g3,Nxf3+,Nxf3,g5,Bd2,fxe5,Nxg5,e4,Bc2,Bd4,Rc1,Qg7,Nh3,Qe5,Bf4,Qf5,Re1,Qxh3,Bxe4,dxe4,Qxd4,Nf6,Qxf6,Rf8,Qe5,b5,Rxe4,Bb7,Qxe6+,Qxe6,Rxe6+,Kf7,Re3,Rac8,Rd1,Rfd8,Rxd8', 'Rc1+,Rd1,Rxd1+,Re1,Rxe1#', 'https://lichess.org/training/hIqAV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HIR8O', 'Rapid', 'Vnukov_Evgn', 1609, 'mehran101b', 1697, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,e6,a3,Qxd4,Be3,Qe5,O-O-O,Bxa3,Bd4,Bxb2+,Kxb2,Qg5,Bc5,e5,Qd3,Bd7,Nf3,Qf5,Qc4,Be6,Qb5+,Nc6,Qxb7', 'Rb8,Qxb8+,Nxb8', 'https://lichess.org/training/HIR8O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hiRRa', 'Rapid', 'norey89', 2171, 'co1one1', 1967, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,d5,Bb5,Bd7,exd5,exd5,Nxd5,Bd6,Qe2+,Nge7,Nxe7,Nxe7,Ne5,Bxe5,fxe5,O-O,Bc4,Nf5,d3,Nd4,Qf2,Qc7,Bf4,Be6,O-O,b5,Bxe6,fxe6,c3', 'Rxf4,Qxf4,Ne2+,Kh1,Nxf4', 'https://lichess.org/training/hiRRa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hIsVE', 'Blitz', 'dark__shadow', 1867, 'plau12345', 1889, 'd4,Nf6,Nf3,b6,Nbd2,Bb7,c3,e6,e3,c5,Bd3,Be7,O-O,d5,Re1,O-O,Qe2,Nbd7,h3,Qc7,e4,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Nf6,Qh4,Nd5,Bg5,Bxg5,Nxg5,h6,Nf3,Rac8,dxc5,Qxc5,Ne5,Nf6,Rad1,Rfd8,Qf4,Rd5,Rxd5,Qxd5,g4,Qxa2,Re2,Qb1+,Kg2,Qd1,Rd2,Qe1,h4,Rc7,g5,hxg5,Rd8+,Kh7,hxg5,Qe4+,Qxe4+,Nxe4,f4,f6', 'g6+,Kh6,Rh8#', 'https://lichess.org/training/hIsVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HITE7', 'Rapid', 'ARP_29', 1642, 'mahenrishu', 1806, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,c4,Bxf3,gxf3,Qe5+,Be2,Nc6,d3,Nd4,f4,Qe6,Be3,O-O-O,Bxd4,Rxd4,Qc2,Rxf4,O-O-O,Qa6,Kb1,e5,h3,Rxf2', 'Bg4+,f5,Qxf2', 'https://lichess.org/training/HITE7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HiTnM', 'Rapid', 'chessooli', 1689, 'Pseudorph', 1656, 'd4,Nf6,c4,d5,Nc3,e6,e3,Bb4,Bd2,c5,cxd5,exd5,Nf3,cxd4,Nxd4,Nc6,Bd3,Nxd4,exd4,Be6', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/HiTnM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HItyJ', 'Rapid', 'playerzen', 2125, 'LeProfessionnel', 2277, 'd4,f5,c4,Nf6,g3,g6,Bg2,Bg7,Nf3,O-O,Nc3,d6,O-O,Nc6,Re1,e5,dxe5,dxe5,Ng5,h6,Bxc6,bxc6,Nf3,e4,Ne5,Qe8,f4,Be6,Be3,Nd7,Nxc6,Bxc4,Qa4,Bf7,Rad1,Nb6,Qb5,a6,Qc5,Nd7,Qa3,Kh7,Bc5,Nb6,Bxf8', 'Bxf8,Qa5,Qxc6', 'https://lichess.org/training/HItyJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hIUSc', 'Rapid', 'hr-abdolrahimi', 1957, 'DeniArif', 2015, 'e4,c5,Bc4,Nc6,a3,e6,Nc3,a6,d3,b5,Ba2,Nf6,Bg5,Be7,Nf3,h6,Bh4,O-O,h3,Ne8,Bg3,d6,Qd2,Nd4,Nxd4,cxd4,Ne2,Bb7,Nxd4,Rc8,O-O-O,e5,Nf3,Qc7,Bh2,Nf6,g4,Nh7,Rhg1,g5,Bg3,Kh8,h4,Kg7,hxg5,Nxg5,Nxg5', 'Bxg5,f4,exf4', 'https://lichess.org/training/hIUSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HIUty', 'Rapid', 'barbarian2007', 2059, 'Givman208', 1855, 'e4,e5,Bc4,d6,Nc3,Nf6,d3,Be7,Nge2,c5,O-O,Nc6,f4,exf4,Bxf4,Be6,Nd5,Bxd5,exd5,Na5,Bb5+,Nd7,a3,a6,Bxd7+,Qxd7,b4,O-O,bxa5,Qa4,c4,Qxa5,Ng3,Qc7,Qg4,Bf6,Nf5,Rad8,Rae1,g6,Nh6+,Kg7,Bg5,Bd4+,Kh1,f6,Bd2,Be5,Nf5+,Kh8,Ne3,b5,Nd1,f5,Qf3,Rde8,Bc3,Kg8,Bxe5,dxe5,Nc3,Qd6,cxb5,axb5,Nxb5,Qa6,Rb1,Rb8,Nc7,Qxa3,Ne6,Rfe8,g4,e4,dxe4', 'Qxf3+,Rxf3,Rxb1+', 'https://lichess.org/training/HIUty');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hixiV', 'Rapid', 'world5555', 1685, 'Garcial', 1676, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,a6,d3,Nc6,c3,Bf5,Nf3,e6,Bg5,Qc7,Nbd2,Bxd3,Bc2,Bxc2,Qxc2,h6,Bh4,Bd6,Qd3,Ne5,Qd4,Bc5', 'Qxe5,Qxe5+,Nxe5', 'https://lichess.org/training/hixiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hixw5', 'Blitz', 'gquino', 1687, 'ivpetrov', 1896, 'd4,d5,c4,e6,a3,Nf6,Nc3,a6,Nf3,dxc4,e4,b5,e5,Nd5,Qd2,Bb7,Be2,Be7,O-O,O-O,a4,c6,axb5,cxb5,Rd1,f6,Ne4,Nb4,Nc5,Bxc5,dxc5,Qxd2,Bxd2,N8c6,exf6,gxf6,Bh6,Rfd8,h4,Nc2,Rac1,N6d4,Nxd4,Nxd4,Bg4,f5,Bh5,a5,Bg5,Rd5,Bf6,Nb3,Rc3,Rxd1+,Kh2,Rd3,Rc2,Nxc5,Be7,Ne4,f3,Rd2,Rc1,Nf2,Re1,Rd1,Rxe6,Rh1+,Kg3,Rg1,Kxf2,Rb1,g4,Rxb2+,Kg3,Rb3,gxf5,c3,Kf4,c2,Re1,Rc3', 'Rg1+,Kh8,Bf6#', 'https://lichess.org/training/Hixw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hiy6K', 'Rapid', 'subhashkumar', 1884, 'undsiebewegtsichdoch', 1890, 'b4,e5,Bb2,d6,e3,Nf6,c4,Be6,a3,b6,Qc2,c5,Nf3,h6,bxc5,bxc5,Nc3,Nbd7,Nb5,a6,Nc3,Rb8,a4,Nb6,d3,Be7,a5,Nbd7,Be2,O-O,O-O,Nh7,g3,f5,Ba3,f4,exf4,exf4,Nd2,Bh3,Rfb1,Rxb1+,Rxb1,fxg3,fxg3,Qxa5,Nd5,Bg5,Bc1,Ne5,Ne4,Bxc1,Rxc1,Nf3+,Bxf3,Rxf3,Qe2,Qa3,Rb1,Qxd3,Rb8+,Nf8,Ne7+,Kf7', 'Nxd6+,Qxd6,Qxf3+', 'https://lichess.org/training/Hiy6K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hiynY', 'Classical', 'donjuand', 1766, 'bibo22', 1768, 'd4,d5,Bf4,Bf5,Nf3,h6,c3,Nc6,e3,a6,Bd3,Bxd3,Qxd3,e6,Nbd2,Nf6,h3,Bd6,Bxd6,Qxd6,O-O,g5,Nh2,h5,f3,O-O-O,Rae1,e5,Qf5+,Kb8,dxe5,Nxe5,Qxg5,Rdg8,Qh4,Nd3,Rb1,Qb6,Qd4,Qxd4,exd4,Re8,g4,Rhg8,Nb3,Re2,Nc1,Nxc1,Rbxc1,Rxb2,Rf2,Rxf2,Kxf2,hxg4,hxg4,Nd7,Re1,Nb6,Kg3,f5,g5,Rxg5+,Kf4,Rg2,Nf1,Rxa2,Ne3,Ra3,Rc1,c6,Kxf5,Na4,Nd1,c5,dxc5,Nxc5,f4,Nd3,Rc2,Ra1,Ne3,Ra5,Rd2,d4+,Ke4,dxe3,Rxd3,e2,Re3,Ra2,Kf3,Rc2,f5,Rb2,Rxe2,Rb3,Re3,Rb6,Kf4,a5,Kg5,a4,f6,Rb1,Kg6,a3,f7,Rg1+,Kf6,Rf1+,Ke7', 'a2,f8=R+,Rxf8', 'https://lichess.org/training/hiynY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hiz3J', 'Rapid', 'Chessmate82', 1807, 'Kro7chy', 1804, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,cxd4,cxd4,Nge7,g4,Ng6,O-O,Be7,h3,O-O,Kg2,Nh4+,Nxh4,Bxh4,Nc3,a6,a3,Qb6,Be3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/hiz3J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hizfK', 'Classical', 'pavelmeda', 1821, 'wingov', 1816, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,d4,Bd6,Re1,Qh4,g3,Qh3,Bxd5,cxd5,Qf3,Bg4,Qg2,Qh5,Be3,Bf3,Qf1,f5,Nd2,f4,Nxf3,Qxf3,Bxf4,Bxf4,gxf4,Rxf4,Qe2', 'Rg4+,Kf1,Qh1#', 'https://lichess.org/training/hizfK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hj0BV', 'Classical', 'FrankoDressa', 1819, 'iniesta92', 1837, 'e4,c5,Nf3,Nc6,d3,d6,g3,Nf6,Bg2,g6,O-O,Bg7,c3,O-O,Re1,b5,d4,cxd4,Nxd4,Nxd4,cxd4,Bb7,e5,Bxg2', 'exf6,Bxf6,Kxg2', 'https://lichess.org/training/hj0BV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hj0cQ', 'Blitz', 'ZeusF1', 1588, 'jurejez', 1578, 'e4,g6,Nf3,Bg7,Nc3,Bxc3,dxc3,Nf6,e5,Nh5,g4,Ng7,h3,d6,Bf4,Nc6,Bb5,a6,Bxc6+,bxc6,Qe2,Ne6,Bh2,Bb7,O-O-O,a5,Nd4,Nc5,Rhe1,e6,a3,d5,f4,Ne4,Nb3,a4,Nd2,Nc5,c4,Ba6,b3,Qb8,Kb2,axb3,cxb3,dxc4,Qf3,Na4+,Kc2,c3,Qxc6+,Kf8,Qxa4,Bd3+,Kxc3,Rxa4,bxa4,Ba6,Ne4,Kg7,Nf6,Qb7,Bg1,Qc6+,Kb2,Qg2+,Kb3,Qxh3+,Kb4,Rb8+,Ka5,Bc8,Rd8,Qxa3,Red1,Ra8+,Kb5,Qb3+,Kc6,Ra6+,Kxc7,Qc4+,Kb8,Qxa4', 'Rg8+,Kh6,g5#', 'https://lichess.org/training/Hj0cQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hj0Lh', 'Rapid', 'Herk', 1793, 'ad119160', 1776, 'c4,e5,Nc3,Nf6,Nf3,Bc5,e3,O-O,d4,Re8,dxc5,e4,Nd4,d5,cxd5,b6,cxb6,axb6,Bc4,c5,Nde2,Bg4,O-O,Re5,Qc2,Bf3,Nf4,Bxg2,Nxg2,Ng4,Nxe4,Qh4,Rd1', 'Qxh2+,Kf1,Qh1+,Ke2,Qxg2', 'https://lichess.org/training/hj0Lh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hj1kT', 'Rapid', 'jk710', 1755, 'calebl', 1743, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,Nxf7,Kxf7,exd5,Nxd5,Qf3+,Ke6,Nc3,Ne7,Qg4+,Nf5,Bxd5+,Kd6,Qb4+,c5,Qb3,Nd4,Nb5+,Nxb5,Qxb5,Kxd5', 'Qd3+,Kc6,Qxd8', 'https://lichess.org/training/Hj1kT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HJ1qU', 'Rapid', 'khtabkhmal', 2057, 'digaec', 2281, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Nf3,Be7,Bf4,c6,e3,Bf5,Bd3,Bxd3,Qxd3,Nbd7,Rc1,O-O,O-O,Re8,a3,Nb6,Rfe1,Nc4,Rc2,b5,Ne5,Qb6,Nb1,a5,b3,Nxe5,Bxe5,Nd7,Bg3,a4,b4,Rac8,Rec1,Qb7,Nd2,Nb6,Qf5,Bf8,Qg4,Re6,Rc3,Rg6,Qf3,Qd7,Kf1,Qe6,Kg1,Nd7,h3,Nf6,Kh1,Ne4,Nxe4,dxe4,Qf4,Rf6,Qe5,Qxe5,dxe5,Re6,Rd1,c5,Kg1,Rec6,Rdc1,c4,Rd1,Be7,Kf1,Kf8,Ke2,Ke8,Rd4,f5,exf6,Bxf6,Rxe4+,Kf7,Rc2,Rd8,Bh4,Rd3,Bxf6,Kxf6,Ra2,Rb3,Rd4,c3,Kd1,Rb2,Ra1,Rxf2,Rf4+,Rxf4,exf4,Kf5,g3,Ke4,Kc2,Kf3,g4,Kg3,Rd1,Kxf4,Rd3,g5,Rd5,h6,Rxb5,Kg3,Rd5,Kxh3,Rd4,Kg3,b5,Rb6,Rb4,Kf3,Kxc3,h5,gxh5,g4,h6,Rxh6,b6,Rh8,b7,Rb8,Kd4,g3,Kc5', 'g2,Rb1,Rxb7,Rxb7,g1=Q+', 'https://lichess.org/training/HJ1qU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HJ3OG', 'Classical', 'Frenchy', 1991, 'LM Rochade_Augsburg', 2131, 'e4,Nc6,d4,e5,Nf3,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,d5,Qe2,dxe4,Bxe4,Nxe4,Qxe4+,Qe7,Nc3,Bf5,Qxe7+,Bxe7,Bf4,O-O-O,Ke2,Bxc2,Be3,Rhe8,Kf3,Kb7,Rac1,Bg6,Na4,Bd6,Nc5+,Ka8,Bf4,h5,Rhe1,f6,Ne6,Rd7,Bxd6,cxd6,Rxc6,Kb7,Rc3,Rde7,Rb3+,Ka8,Rbe3,Rb8,b3,Bf5,Nd4,Bg4+,Kg3,Re5,Nc6,Rxe3+,Rxe3,Rc8,Nd4,g5,f3,Bd7,Re7,Rc7,Nb5', 'h4+,Kf2,Rc2+,Re2,Rxe2+,Kxe2,Bxb5+', 'https://lichess.org/training/HJ3OG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hj431', 'Blitz', 'Msroll', 1844, 'future-trunks', 1606, 'e4,c6,g3,d5,Bg2,dxe4,Bxe4,Nf6,Bg2,Bf5,Nf3,e6,O-O,Be7,d4,O-O,c3,Nbd7,Be3,Nd5,Qe2,N7f6,Nh4,Nxe3,fxe3,Be4,Nd2,Bxg2,Nxg2,a5,e4,b6,Rad1,b5,Qf3,Qb6,Kh1,Rfd8,Nf4,b4,Nh5,Rf8,Nxf6+,Bxf6,e5,Bg5,Ne4,Be7,Qg4,bxc3,bxc3,Qb2,Nf6+,Bxf6,exf6,g6,Qg5,Kh8,Qh6,Rg8,Rf4,Qxc3', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/hj431');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hJ6U4', 'Rapid', 'OCBKingSize', 1722, 'DragosG', 1779, 'd4,d5,c4,e6,Nf3,Nf6,Bf4,Nbd7,e3,c6,Bd3,Qb6,Qc2,Bb4+,Nbd2,O-O,a3,Bxd2+,Nxd2,Re8,c5,Qd8,Bd6,e5,O-O,exd4,exd4,Ne4,Nxe4,dxe4,Bxe4,Nf6,Bf3,Bg4,Bxg4,Nxg4,Rae1,Qh4,Re4,Rxe4,Qxe4,Qg5,f4,Qh5,f5,f6,Qf3,g6,h3,Nh6,Qxh5,gxh5,Kh2,Nf7,Bf4,Re8,b4,Re4,d5,cxd5,Kg3,Ne5,Rd1,d4,a4', 'h4+,Kxh4,Rxf4+', 'https://lichess.org/training/hJ6U4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HJ7BD', 'Rapid', 'gmquen', 1822, 'saijayanthalla', 1769, 'd4,e6,e3,h6,Nf3,a6,Bd3,c6,c4,b5,b3,bxc4,bxc4,Qa5+,Bd2,Bb4,Bxb4,Qxb4+,Qd2,Qxd2+,Nbxd2,Nf6,O-O,d6,Rfe1,O-O,e4,Nbd7,e5,dxe5,dxe5,Ne8,Be4,Bb7,Rab1,Rb8,Red1,Nc7,h3,Nc5,Bc2,Rfd8,Nb3,Rxd1+,Rxd1,Nxb3,axb3,c5,Rd7,Bxf3,gxf3,Ne8,Ra7,Rb6,Ra8,Kf8,Kf1,f5,Ke2,Kf7,Ke3,Rc6,Kf4,g5+,Kg3,Ng7,Ra7+,Kg6,Kg2,Nh5,Bd1,Nf4+,Kg3,Nd3,Ra8,Nxe5,f4,gxf4+,Kxf4,Nd3+,Ke3,Nb2,Bf3,Rb6,Kf4,Rxb3,Rxa6,Kf6,Bd5,Nd3+,Kg3,f4+,Kg2,Rb2,Rxe6+,Kf5,Rxh6,Rxf2+,Kg1,Rc2,Rh5+,Kf6,Rh8,Rc1+,Kg2,Ne1+,Kf2,Nd3+,Kf3,Rf1+', 'Ke2,Re1+,Kxd3', 'https://lichess.org/training/HJ7BD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HJ7Fx', 'Blitz', 'Paladin3000', 1766, 'Aboliiigh', 1745, 'e4,c5,b3,e6,Bb2,Nc6,Nc3,Nf6,Bb5,Nd4,Nge2,g6,Nxd4,cxd4,Ne2,e5,f3,Bg7,Ng3,O-O,Qe2,a6,Bc4,d6,h4,h5,f4,exf4,Nf1,Ng4,Qf3,Kh8,O-O-O,b5,Bd5,Rb8,Qxf4,Be5,Qf3,f5,exf5,Rxf5,Qe2,Nf2,Rh3,Nxh3,gxh3,Rf8,Qe4,Qf6,d3,Re8,Kb1,Bf5,Qf3,Qxh4,Nd2,Rf8,Qe2,Qxh3,Nf3,Bg4,Qe4,Bxf3,Qxg6,Bxd5,Rg1,Qe3', 'Qxh5+,Qh6,Qxh6#', 'https://lichess.org/training/HJ7Fx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hj983', 'Blitz', 'CaraMia', 2433, 'VinceFromYT', 2459, 'e4,c5,Nf3,e6,g3,a6,Bg2,Qc7,O-O,b5,d4,cxd4,Nxd4,Bb7,a3,Nf6,Nc3,d6,Re1,Be7,Nd5,Qd8,Nxe7,Qxe7,Nf5,exf5,exf5,Ne4,Bxe4,Bxe4,f3,O-O,Rxe4,Qf6,Qd5,Nd7,Be3,Qxb2,Bd4,Qxc2,Rg4,Ne5,Bxe5,dxe5,Qxe5,f6,Qd5+,Kh8,Qb7,Qc5+,Kh1,Ra7,Qe4,Rd7,Re1,Qxa3,h4,Qd3,Qc6,Rd6,Qb7,Rd7,Qc6,b4,Rxb4,Qxf5,Rg4,h5,Qe4,Qa5,Rf4,Rd4,Qe7,Rdd8,Qe4,Qb5,Rf5,Qe8,Qxe8,Rdxe8,Rxh5+,Kg8,Rxe8,Rxe8,Ra5,Re6,Kg2,Rb6,Kh3,Kf7,Kg4,g6,h5,Rb4+,f4,gxh5+,Kxh5,Rb6,Kg4,Kg6,Kh4,f5,g4,fxg4,Kxg4,Kf6,Rh5,Kg7,Rg5+,Rg6,Kh5', 'Rxg5+,Kxg5,a5,Kf5,a4', 'https://lichess.org/training/hj983');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hj9dr', 'Rapid', 'morex12', 1625, 'serega_1', 1712, 'e4,b6,Nc3,e5,Bc4,Bb7,Qh5,Qf6,Nd5,Bxd5,Bxd5,c6,Bb3,Bc5,Nf3,Ne7,d3,Qg6,Qxe5', 'Qxg2,Qg3,Qxh1+', 'https://lichess.org/training/Hj9dr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hjAwX', 'Blitz', 'GM dalmatinac101', 2712, 'GM maciek_92', 2549, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Nxc6,bxc6,Bd3,d5,O-O,Nf6,Re1,Be7,e5,Nd7,Qg4,g6,Bh6,Bf8,Bxf8,Kxf8,Qg3,h5,h4,Kg7,Rad1,c5,b3,Qe7,Ne2,Bb7,Nf4,Nf8,c4,d4,a3,a5,Bb1,Rd8,f3,Bc6,Nd3,Rb8,Bc2,Nd7,Nf4,Nf8,Nd3,Bd7,Rb1,Bc6,Red1,Nd7,Re1,Kh7,Nf4,Kg7,Bxg6,fxg6', 'Qxg6+,Kf8,Nxe6+,Qxe6,Qxe6', 'https://lichess.org/training/hjAwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HjbQq', 'Blitz', 'detune', 1510, 'onuro', 1508, 'd4,d5,Bf4,e6,e3,f6,Nf3,g5,Bg3,Bg7,h3,h6,c3,f5,Be5,Bxe5,Nxe5,Ne7,Bd3,Nd7,f4,Nxe5,fxe5,c6,Qh5+,Kf8,Qf3,b5,Nd2,Bb7,g4,Kg7,O-O-O,Rf8,Rdf1,fxg4,Qxf8+,Qxf8,Rxf8,Rxf8,hxg4,Ng6,Bxg6,Kxg6,Kd1,Bc8,Ke2,Bd7,Nb3,Bc8,Nc5,a6,b4,Rh8,Rf1,h5,Rf6+,Kg7,gxh5,Rxh5,a3,g4,Nxe6+,Bxe6,Rxe6,Rf5,Rxc6,g3,Rf6,Rxf6', 'exf6+,Kxf6,Kf3,Kf5,Kxg3', 'https://lichess.org/training/HjbQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hJCIm', 'Blitz', 'IdentidadeZero', 1788, 'Jason1', 1790, 'e4,e5,Bc4,Nf6,d3,c6,Nf3,d5,exd5,cxd5,Bb3,Nc6,O-O,Bd6,Bg5,O-O,Bxd5,h6,Bxf6,Qxf6,Nc3,Bg4,h3,Bh5,Ne4,Qe7,Bxc6,bxc6,Nxd6,Qxd6,Re1,f6,c4,Rfd8,Re3,Rd7,Qc2,Rad8,Rd1,Bg6,Nh4,Bxd3,Rexd3,Qxd3,Rxd3,Rxd3,Nf5,e4,Ne7+,Kf7,Nxc6,Rd1+,Kh2,R8d2,Qxe4,Rxb2,Qe7+,Kg6,Qxa7,Rdd2,Kg1,Rxa2,Qc5,Ra1+,Kh2,Raa2,Kg3,Rd3+,Kf4,Rdd2,Kf3,Rd3+,Ke4,Rdd2,Ne7+,Kf7,Qc7,Re2+,Kf3,Rxe7,Qd6,Ree2,Qd5+,Kg6', 'Qd3+,Kf7,Qxe2,Rxe2,Kxe2', 'https://lichess.org/training/hJCIm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HjCzF', 'Rapid', 'terafliu', 2045, 'bet', 1802, 'e4,g6,d4,Bg7,Be3,d6,Nc3,Nc6,Qd2,a6,f3,Bd7,Nge2,e5,d5,Nb8,O-O-O,h5,h3,b5,Rg1,b4,Nb1,a5,g4,hxg4,hxg4,Rh2,Rg2,Qh4,Bg5,Qh7,c3,Rxg2,Bxg2,Bh6,Bxh6,Qxh6,Qxh6,Nxh6,Rh1,Ng8,Nd2,Kf8,Nf1,Bb5,Kd2,Bxe2,Kxe2,bxc3,bxc3,Na6,Ne3,Rb8,Kd2,Rb2+,Nc2,Rxa2,Rb1,Nc5,Bf1,Nh6,g5,Ng8,Rb8+,Kg7,Rc8,Rb2,Kc1,Rb7,Ra8,a4,Bc4,Nb3+,Bxb3,axb3,Nb4,c5,dxc6,Rc7,Kb2,Ne7,Ra6,f6,gxf6+,Kxf6,Kxb3,Kg5,Ka4,Kf4,Kb5,Kxf3,Kb6,Rc8,Ra7,Nxc6,Nxc6,Kxe4,Rc7', 'Rxc7,Kxc7,g5,Kxd6,g4,Nxe5,g3', 'https://lichess.org/training/HjCzF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hjdbs', 'Classical', 'gerardo94', 1870, 'defrimmyrtaj68', 1942, 'c4,d5,cxd5,Qxd5,Nf3,Qd8,Nc3,c6,d4,e6,Bf4,Nd7,e3,h6,Bd3,Ngf6,O-O,Bb4,h3,Bxc3,bxc3,Nd5,c4,Nxf4,exf4,Nf6,Ne5,O-O,Be2,Qe7,Qb3,Rd8,Rfd1,Nd7,Bg4,Nxe5,fxe5,b6,f4,g6,Kh1,Bb7,Bf3,Rab8,Qa4,Qh4,Qxa7,Qxf4,Qxb6,Ba8,Qc5,h5,a4,Rb3,Rab1,Rxb1,Rxb1,Kg7,Bxc6,Bxc6,Qxc6,Rxd4,Qf3,Qxe5,Rc1,Qc5,Qb3,Qg5,Rc2,Rd1+,Kh2,Qf4+,g3,Qf1,g4,Qh1+,Kg3,Rg1+,Kf4,Rf1+,Ke5,hxg4,hxg4,Qc6,Rd2,f6+,Kd4,e5+,Kc3,Qf3+,Kb2', 'Rb1+,Kxb1,Qxb3+', 'https://lichess.org/training/Hjdbs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HjdyH', 'Classical', 'Sadeeshkumar', 1650, 'Beto13647', 1813, 'e4,e6,d4,d5,e5,b6,Be3,Be7,Nf3,Bb7,Bd3,Nd7,O-O,f6,Nh4,Nf8,Qh5+,Kd7,Bb5+,c6,Bd3,fxe5,Nf3,e4,Ne5+,Kc7,Nf7,Nf6,Qd1,Qe8,Nxh8,exd3,Qxd3,N8d7,Bf4+,Kc8,c4,Qxh8,cxd5,Nxd5,Bg3,h5,h3,g5,Nc3,Nf4,Bxf4,gxf4,a4,Qg7,Rfe1,f3,Qxf3,c5,Ne4,Qxd4,Rad1,Qxa4,Qf7,Bxe4,Qxe7,Bd5,Qe8+,Kb7,Qf7,Rf8,Ra1,Qxa1', 'Qxd7+,Ka8,Rxa1', 'https://lichess.org/training/HjdyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HjebN', 'Rapid', 'Arch', 1928, 'SirRay', 1912, 'e4,c5,d4,cxd4,c3,e5,Nf3,Nc6,cxd4,exd4,Nxd4,Bb4+,Bd2,Qe7,Nf5,Qxe4+,Qe2,Nf6,Bxb4,Nxb4', 'Nd6+,Kd8,Nxe4', 'https://lichess.org/training/HjebN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hjexf', 'Rapid', 'Donpogo', 1690, 'lola777', 1646, 'd4,d5,Nf3,Bf5,Bf4,Nc6,e3,Nb4,Bd3,Bxd3,cxd3,c6,a3,Na6,Nc3,Nf6,O-O,h6,Re1,e6,e4,Be7,Nd2,O-O,Be3,Nc7,f4,Nh7,g4,f5,gxf5,exf5,e5,Ne6,Kh1,Bh4,Rg1,Rf7,Nf3,Qe7,Ne2,Kh8,Qf1,g5,Nxh4,gxh4,Qg2,Rg7,Qh3,Rf8,Raf1,Rff7,Bd2,Nhf8,Rxg7,Nxg7,Rg1,Nfe6,Bb4,Qe8,Bc5,b6,Bb4,c5,dxc5,bxc5,Bc3,d4,Bd2,Qb5,Bc1,Nh5,Qxh4,Qxd3', 'Qxh5,Qe4+,Rg2', 'https://lichess.org/training/Hjexf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HJh5G', 'Rapid', 'Nusret49', 2036, 'domingo5', 2004, 'e4,e5,d4,exd4,Nf3,Nf6,e5,Ne4,Qxd4,d5,Bd3,Bc5,Qa4+,Bd7,Bb5,Bxf2+,Ke2,c6,Bd3,b5,Qb4,Bc5,Qb3,Nf2,Rf1,Nxd3,Qxd3,O-O,Bg5,f6,exf6,Bg4', 'f7+,Kh8,Bxd8', 'https://lichess.org/training/HJh5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hJHTF', 'Blitz', 'CalinRA', 1672, 'OhNoNotThisGuyAgain', 1675, 'c4,Nf6,b3,e5,Bb2,e4,e3,d5,d4,Bg4,Be2,Qd7,cxd5,c6,dxc6,Nxc6,a3,Bd6,b4,a6,Nd2,b5,h3,Bxe2,Nxe2,O-O,Rc1,Nh5,d5,Ne5,Nxe4,f5,N4g3,Nxg3,Nxg3,f4,exf4,Rxf4,O-O,Raf8,Nh5,Nf3+,Kh1,Rh4,Bxg7,Qxh3+,gxh3', 'Rxh3+,Kg2,Rh2#', 'https://lichess.org/training/hJHTF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hjixw', 'Blitz', 'WIM chikita2018', 2274, 'galactico_2007', 2104, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,Bxd4,Nxd4,Nxd4,Bg5,h6,Bh4,d6,f4,Qe7,fxe5,dxe5,c3,Nc6,Bxf6,gxf6,Kh1,Be6,Nd2,O-O-O,Qe2,Rxd2', 'Bxe6+,fxe6,Qxd2', 'https://lichess.org/training/Hjixw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hjjor', 'Rapid', 'zetapro2', 2022, 'Mora93', 2048, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,e3,O-O,Bd3,c5,O-O,cxd4,Nxd4,Nc6,Nf3,a6,cxd5,exd5,Qc2,h6,b3,Be6,Bb2,Rc8,Qb1,Bb4,Ne2,Be7,Nfd4,Ne5', 'Nxe6,fxe6,Bxe5', 'https://lichess.org/training/hjjor');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HjjZO', 'Classical', 'SteelWolf', 1787, 'raptor69', 1866, 'd4,Nf6,e3,g6,Nf3,d5,Bd3,Bg7,Nbd2,O-O,c3,Re8,O-O,Qd6,Qc2,c5,Re1,c4,Bf1,Nc6,e4,dxe4,Nxe4,Nxe4,Qxe4,Bf5,Qe3,e6,Bxc4,Rac8,Bd3,Bxd3,Qxd3,e5,Qd2,exd4,Rxe8+,Rxe8,g3,Qf6,Qd3,dxc3,Bg5,Qe6,bxc3,Qe2,Qd7,Bxc3,Rc1,Bg7', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/HjjZO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HJKQY', 'Rapid', 'aznar697', 1779, 'NicoYada', 1826, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Nc3,dxc4,O-O,Bd6,Re1,O-O,d3,cxd3,cxd3,Bg4,h3,Bh5,Be3,a6,a3,b6,Rc1,Nd4,Bxd4,exd4,Ne4,Re8,Kf1,f5,Ng3,Bxg3,fxg3,c5,Rxe8+,Qxe8,Qb3+,Kh8,Re1,Qc6,Ne5,Qd6,Nf7+,Bxf7,Qxf7,Qf8,Qc7,Qd8,Qf7,g6', 'Re7,Qxe7,Qxe7', 'https://lichess.org/training/HJKQY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hjL8l', 'Rapid', 'Raviteja33', 1859, 'Tihany', 1905, 'e4,d5,exd5,Nf6,Nf3,c6,dxc6,Nxc6,g3,e5,Bg2,Bd6,O-O,O-O,d3,h6,Nc3,a6,Bd2,b5,Qc1,Rb8,Nh4,Bb7,Nf5,Nd4,Nxh6+,gxh6,Bxh6,Bxg2', 'Qg5+,Kh7,Qg7#', 'https://lichess.org/training/hjL8l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HJM6M', 'Blitz', 'Whitebear3', 2012, 'WHEEEEE123', 2040, 'd4,Nf6,e3,g6,f4,Bg7,Nf3,d6,c3,Nbd7,Bc4,O-O,O-O,h6,Nbd2,Re8,e4,e5,fxe5,dxe5,Qb3,Qe7,dxe5,Ng4,h3,Ngxe5,Nxe5,Nxe5,Nf3,Nxc4,Qxc4,c6,Bd2,Qxe4,Qxe4,Rxe4,Rae1,Rxe1,Rxe1,Be6,Bf4,Rd8,Bc7,Rd7,Ba5,b6,Bb4,c5,Ba3,Rd3,Nh4,Bf6,Nxg6,Bxa2,Nf4,Rd2,Nh5,Bh4,Re8+,Kh7,g3,Bg5,h4,Be3+,Kf1,Kg6,g4,Be6', 'Rg8+,Kh7,Nf6#', 'https://lichess.org/training/HJM6M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hjNri', 'Blitz', 'FM Mikasinski', 2461, 'Torjaeger10', 2373, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Nd4,Ba4,c6,Nxe5,d6,Nd3,Bg4,f3,Bh5,Ne2,Nxe4,Nxd4,Qh4+,Ke2,Be7,Nf5,Qf6,g4,O-O-O,Qe1,Rhe8,Nxe7+,Qxe7,Kd1,Qf6,Qf1,Ng5,gxh5,Nxf3,c3,Qf5,Kc2,c5,Bxe8,c4,Ba4,d5,Kb1,d4,Bc2,dxc3,dxc3,cxd3,Bxd3,Rxd3,a3,Rd1+,Ka2,Rxf1,Rxf1,Qd5+,b3,Qd3,Bb2,Nd2,Rad1,Qc2,Rxd2,Qxd2,Rxf7,Qd5,Rf8+,Kd7,Rf4,Qxh5,Rd4+,Ke6,Rb4,Kf7,Rxb7+,Kg6,Rb4,h6,Rb6+,Kh7,Rb7,Qg6', 'c4,Kg8,Rxg7+,Qxg7,Bxg7', 'https://lichess.org/training/hjNri');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hjONy', 'Blitz', 'Wannadisko', 1658, 'dEEp_gRg', 1665, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Nxd4,Bd7,O-O,Qf6,Nxc6,Bxc6,Re1,O-O-O,Bd5,Bxd5,exd5,Nh6,Nc3,Nf5,Qd3,g6,Be3,a6,a4,Nxe3,Qxe3,Bg7,a5,h5,Rab1,g5,b4,Qxc3,Qxc3,Bxc3,Re7,Rd7,Re3,Bg7,b5,axb5,Rxb5,g4,g3,h4,Reb3,c6,dxc6,bxc6', 'Rb8+,Kc7,R3b7#', 'https://lichess.org/training/hjONy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HjPdV', 'Rapid', 'Luca_Nick_95', 1624, 'mahmood5458', 1659, 'e4,b6,Nc3,Bb7,f4,f6,d3,e6,Be3,Bb4,Ne2,Ne7,a3,Nbc6,axb4,Nxb4,g3,O-O,Bg2,d5,Rg1,Nec6,g4,d4,Nxd4,Nxd4,Kf2,Ndxc2,e5,Bxg2,exf6,Nxa1,fxg7,Kxg7,Qxa1,Bd5,b3,Qh4+,Ke2,Qxh2+,Bf2,Qxf4', 'Nxd5+,Kg8,Nxf4', 'https://lichess.org/training/HjPdV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HJPGb', 'Rapid', 'ansari14581', 1890, 'Parth_abc', 1887, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Qe2,Bg4,Nc3,Bxf3,gxf3,Nxc3,Qxe7+,Bxe7,bxc3,Nc6,Bb5,a6,Bxc6+,bxc6,Be3,Bf6,O-O-O,Rb8,Rhe1,O-O,Rg1,c5,dxc5,Bxc3,Rd3,Bb2+,Kd2,Be5,cxd6,Bxd6,Bh6,Be5,f4,Bf6,Rdg3,Rfd8+,Ke2,g6,Bg5,Bxg5,Rxg5,Rb2,Rc5,Rxa2,Rxc7,Re8+,Kd3,Rd8+,Kc3,Ra4,f5,Rf4,fxg6,hxg6,Rg2,Ra8,Rc4,Rxc4+,Kxc4,a5,Kb5,a4,Rg1,a3,Ra1,a2,Kb4,Rb8+,Ka3,Ra8+,Kb2,Rd8,Kxa2,Rd2,Kb3,Rxf2,Rh1,Kf8,c4,Ke7,Kb4,Kd6,Kb5,Kc7,Re1,Rb2+,Kc5,f5,Re7+,Kc8,Kc6,Kd8,Rg7,Rg2,h4,f4,Kd6,f3', 'Rg8#', 'https://lichess.org/training/HJPGb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HjQ0a', 'Rapid', 'bbeltkyle89', 2045, 'fchet', 2126, 'd4,Nf6,Bg5,d6,Bxf6,gxf6,c4,e5,Nc3,exd4,Qxd4,Nc6,Qe4+,Be6,Nf3,Bh6,e3,a6,Be2,Qd7,O-O,O-O-O,Rfd1,Rhg8,Nd5,Bf5,Qh4,Bg5,Nxg5,fxg5,Qg3,Qe6,c5,Be4,Bc4,Ne5', 'Nb6+,cxb6,Bxe6+', 'https://lichess.org/training/HjQ0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hJSGh', 'Classical', 'a8b', 1753, 'heshamelsafty', 1774, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Na5,Bb3,Nxb3,axb3,g5,O-O,h6,c4,Nf6,Nc3,Bc5+,d4,Bb4,e5,Ng4,h3,Ne3,Bxe3,fxe3,Qd3,d6,Nd5,Be6,Nxb4,dxe5,Nxe5,Qd6,Nc2,O-O-O,Rxa7,Qxe5,d5,Kb8,Rfa1,c6,Nxe3,cxd5,Nxd5,Bxd5,c5,Qe4,Qg3+,Kc8', 'Ra8+,Kd7,Qd6+,Ke8,Qxd8#', 'https://lichess.org/training/hJSGh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hJsNa', 'Classical', 'rapidao', 1903, 'isvok', 1967, 'Nf3,c5,c3,Nc6,g3,g6,d4,cxd4,cxd4,Bg7,Bg2,Qb6,e3,d6,O-O,Bg4,h3,Bd7,Nc3,e6,Bd2,Na5,b3,Ne7,Rc1,Rc8,Na4,Qd8,Rxc8,Nxc8,Qc2,b5,Nb2,O-O,Rc1,Nc6,Ne1,Qb6', 'Bxc6,Bxc6,Qxc6', 'https://lichess.org/training/hJsNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hjsRJ', 'Blitz', 'ncampa', 2095, 'Enzok', 2062, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,Nf6,e5,Ng4,Bxf7+,Kxf7,e6+,Ke8,Ng5,Nh6,O-O,g6,f4,Bg7,f5,Nxf5,Rxf5,gxf5', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/hjsRJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hJtvn', 'Rapid', 'Mikorilla', 2099, 'Little_Carlsen', 2056, 'c4,Nf6,Nc3,c5,g3,e6,Bg2,d5,cxd5,exd5,e4,d4,Nd5,Nxd5,exd5,Bd6,Qe2+,Kd7,Qb5+,Kc7,d3,Re8+,Kd1,Qe7,Bd2,a6', 'Ba5+,b6,Qxb6+', 'https://lichess.org/training/hJtvn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hJudU', 'Classical', 'Vijaykyp', 1696, 'Awern', 1667, 'e3,e5,b3,d5,Bb2,Bd6,g3,Nf6,Nf3,Bg4,Be2,O-O,O-O,Nc6,c4,Bc5,Nxe5,Nxe5,Bxe5,Bxe2,Qxe2,Re8,Bc3,Ne4,Qg4,Nxc3,Nxc3,d4,Ne4,Bb6,Qf4,dxe3,dxe3,Re6,Qg4,Qd3,Rfd1', 'Qxe4,Qxe4,Rxe4', 'https://lichess.org/training/hJudU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hjUrp', 'Rapid', 'A_Souza', 1675, 'Amirbekovoleg', 1718, 'd4,d5,Nf3,Nc6,Bf4,Bg4,Nbd2,e6,h3,Bh5,a3,h6,c4,Nf6,e3,Be7,Be2,O-O,O-O,Bxf3,Nxf3,dxc4,Bxc4,a6,a4,Kh8,Ne5,Na5,Ba2,Nd5,Bxh6,gxh6,Qh5,Kg7,f4,Nxe3,Rf3,Nf5,g4,Nh4,Rg3,Qxd4+,Kh1,Qxf4,Rag1,Qe4+,Kh2,Qc2+,Kh1,Qxa4,Bb1,Bg5,Rf1,f6,Nf3,Nxf3', 'Qg6+,Kh8,Qh7#', 'https://lichess.org/training/hjUrp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hJUup', 'Rapid', 'Mehran75', 1656, 'Thana2004', 1692, 'e4,d6,Nc3,Nf6,h3,e5,Nf3,Nc6,a3,Be7,Bb5,Bd7,d3,a6,Bc4,b5,Ba2,O-O,Nd5,Nxd5,Bxd5,Rc8,Bd2,Bf6,O-O,Ne7,Ba2,c5,Bg5,Ng6,Bxf6,Qxf6,Bd5,Nf4,Kh2,Qh6,Ng1,Kh8,Qf3,g5,Qg3,f5,Rae1,Nxd5,exd5,f4,Qf3,g4,Qe4,Rf6,f3,gxh3,Nxh3,Rg8,Rg1,Bxh3,gxh3', 'Qxh3+,Kxh3,Rh6#', 'https://lichess.org/training/hJUup');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HjVak', 'Blitz', 'jrntr', 1734, 'orntrevias', 1730, 'd4,d5,e3,Nc6,Nf3,Bg4,Be2,Bf5,O-O,Nf6,b3,e6,Bb2,Bd6,Nbd2,Nb4,c4,Nc2,Rc1,Nb4,c5,Be7,a4,Bc2,Rxc2,Nxc2,Qxc2,O-O,b4,c6,b5,Rb8,Qb3,Re8,a5,Kf8,b6,axb6,axb6,Kg8,Qc2,Bf8,Bd3,h6,Ne5,Ra8,Ra1,Rb8,Ndf3,Kh8,Nh4,Kg8,Qe2,Kh8,Ng4,Ng8,Qc2,Qxh4,h3,Nf6,Nxf6,Qxf6,e4,Kg8,e5,Qg5,Bc1,Qe7,Qe2,g6,Qg4,Kh7,h4,Bg7,Be3,Ra8,Rxa8,Rxa8,g3,Rf8,Kg2,Rg8,h5,Bf8,hxg6+,fxg6,Qh3,h5,Qh1,Qf7', 'Qxh5+,Kg7,Qh6#', 'https://lichess.org/training/HjVak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HJwag', 'Rapid', 'Alejandritok7vell', 2104, 'DonSataX', 1755, 'c4,c5,Nc3,Nc6,d3,e5,Nf3,d6,e3,Nf6,Be2,Bg4,O-O,Be7,h3,Bh5,a3,O-O,Qc2,d5,cxd5,Nxd5,e4,Nf6,Nd1,Rc8,Ne3,Nd4,Nxd4,cxd4,Nc4,b5,Bxh5,bxc4,Be2,Nxe4,dxe4,d3,Qd2,dxe2,Qxe2,Bc5,Qg4,Rc6,Bg5,Qb6,Rab1,Rg6,Qf5,h6,Bh4,Qb3,Kh2,Rb8,Qxe5', 'Bd6,Qxd6,Rxd6', 'https://lichess.org/training/HJwag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HjWBq', 'Rapid', 'jah710', 1605, 'asanjay', 1625, 'd4,Nf6,c4,d5,Nc3,e6,Bf4,Bd6,Bg3,dxc4,e4,Bxg3,hxg3,Nc6,Bxc4,Nxd4,Qa4+,Bd7,Bb5,Nxb5,Nxb5,a6,Nxc7+,Qxc7,Qb4,e5,Nf3,a5,Qd2,O-O,Rd1,Bg4,Rc1,Qb6,Nxe5,Nxe4,Qf4,Qxf2+,Qxf2,Nxf2,Kxf2,Be6,a3,Rad8,Rhd1,Rxd1,Rxd1,g6,Nd7,Rd8,Nf6+,Kg7,Rxd8,Kxf6,Rb8,Bd5,Ke3,Bc6,Kd4,Ke6,Kc5,a4,Kb4,h5,Rh8,f6,b3,axb3,Kxb3,Bxg2,Rh7,Bc6,a4,f5,a5,Kf6,Rc7,Ke6', 'Rxc6+,bxc6,a6', 'https://lichess.org/training/HjWBq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HJz6x', 'Rapid', 'Patt68', 2178, 'stedler', 2055, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Be3,cxd4,cxd4,Nge7,Nf3,Nf5,Qd2,Be7,Nc3,f6,exf6,Bxf6,Bd3,O-O,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Bg5,Qd6,g3,Nd4,f4,Bf6,Bxf6,Rxf6,Bxh7+,Kxh7,Qxd4,Bh3,Rfe1,Rd8,Re5,Rf5,Rae1,Rxe5,Rxe5,Qg6,Rg5,Qc2,Rh5+,Kg6,Rxh3,Re8,f5+,Qxf5,Rh4', 'Re1+,Kg2,Qf1#', 'https://lichess.org/training/HJz6x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HjzJt', 'Rapid', 'GregLau', 2262, 'e4_playermarc', 2282, 'Nf3,d5,g3,Bg4,Ne5,h5,h3,Qd6,d4,f6,Nd3,Bf5,Bf4,Qb6,Nd2,Nc6,c3,O-O-O,Nb3,Bxd3,Qxd3,e5,Qf5+,Kb8,dxe5,Bc5,Nxc5,Qxc5,Bg2,Nge7,Qd3,fxe5,Be3,d4,cxd4,exd4,Bd2,Nb4,Bxb4,Qxb4+,Qd2,Qxd2+,Kxd2,Rhf8,Bf3,d3,Rhd1,c5,Rac1,c4,Rxc4', 'dxe2+,Kxe2,Rxd1,Kxd1,Rxf3', 'https://lichess.org/training/HjzJt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hjzMo', 'Rapid', 'dreros', 1724, 'Rubicon555', 1700, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,d6,Be2,O-O,Nf3,Nc6,O-O,Nd7,a3,e5,dxe5,Ncxe5,Nxe5,Bxe5,f4,Bxc3,bxc3,Nc5,Bf3,Re8,Re1,Be6,Qe2,c6,Be3,Na4,Rac1,c5,Qc2,Nb6,f5,Bxc4,fxg6,fxg6,Rcd1,Qf6,Bh6,Nd7,Qd2,Ne5,Qxd6,Nxf3+,gxf3,Qxf3,Rf1,Bxf1,Rxf1,Qg4+,Kh1,Qxe4+,Kg1,Qg4+,Kh1,Qe6', 'Rf8+,Rxf8,Qxe6+', 'https://lichess.org/training/hjzMo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hjzSd', 'Rapid', 'KENNYURIEPERO', 1598, 'klezmerelda', 1587, 'e3,e5,Bc4,d5,Bb3,c5,Nc3,Nf6,a3,Nc6,d4,Bf5,dxe5,Nxe5,Nxd5,c4,Ba4+,Nc6,Nxf6+,Qxf6,Nf3,Bd6,O-O,O-O,Bxc6,bxc6,e4,Rad8,Qe2,Rfe8,Qxc4,Bxe4,Bg5,Qxb2,Bxd8,Bxf3,Bh4,Bd5,Qd3,Qe5,Bg3,Qe6,f3,Bxg3,hxg3,Bc4,Rfe1', 'Qxe1+,Rxe1,Rxe1+,Kf2,Bxd3', 'https://lichess.org/training/hjzSd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hk033', 'Rapid', 'Brabemachess', 1725, 'HerrTotenkopf', 1628, 'd4,g6,e4,Bg7,Nc3,Nf6,e5,Ng8,Bc4,e6,Qf3,Ne7,Nh3,O-O,O-O,d5,Bd3,Nbc6,Be3,Nf5,Bxf5,exf5,Rfe1,Qh4,Nxd5,Nxd4,Bxd4,Qxd4,Nf6+,Bxf6,exf6,Qxf6,c3,c6,Rad1,f4,Nxf4,g5,Nh3', 'Qxf3,gxf3,Bxh3', 'https://lichess.org/training/hk033');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hk0gx', 'Rapid', 'hamed253', 1621, 'lukasbirki', 1655, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,g6,Ng5,e6,O-O,Bg7,d3,O-O,Nf3,Nc6,Bg5,d5,exd5,exd5,Nxd5,Na5,Re1,b5,Ne7+,Kh8,Bxb5,Bg4,h3,Be6,Nd5,Qxd5,c4,Qf5,g4,Nxg4,hxg4,Qxg4+,Kf1,Bd4,Re4,Qh3+,Ke1,Bg4,Rf4,Be5,Bf6+,Bxf6,Rxf6,Bxf3,Qxf3,Qxf3,Rxf3,Rab8,Kd2,a6,Ba4,Rxb2+,Ke3,Rfb8,Rxf7,R2b4,Bd7,R8b7,Rh1,h5,Be6,Rxf7,Bxf7,Rb2,Bxg6,Rxa2,Rxh5+,Kg7,Be4,Nb3,Rg5+,Kf6,Rf5+,Ke6,Kf4', 'Rxf2+,Kg4,Rxf5,Bxf5+,Ke5', 'https://lichess.org/training/hk0gx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HK2QJ', 'Rapid', 'Horst00', 1619, 'splash221', 1649, 'e4,c5,f4,g6,Nf3,Bg7,d4,cxd4,Nxd4,Qa5+,Bd2,Qc5,Nb3,Qb6,Nc3,Nf6,e5,Ng8,Bc4,e6,Qf3,f6,exf6,Nxf6,O-O-O,O-O,Be3,Qd8,Ne4,d5,Nxf6+,Bxf6,Bb5,a6,Bd3,b5,Bc5,Rf7,Qg4,Nc6,Bxg6,hxg6,Qxg6+,Rg7,Qh6,Ne7,Qxf6,Rf7,Qg6+,Rg7,Qf6,Rf7,Qg5+,Rg7,Bxe7,Qxe7,Qxe7,Rxe7,Rhe1,Rc7,g4,a5,Nd4,Rc4,Nxe6,Bxe6,Rxe6,Rxf4,Rxd5,Rxg4,Rxb5,Rg1+,Kd2,Rd8+,Ke2,Rg2+,Kf3,Rxc2,Rxa5,Rxb2,Re2', 'Rf8+,Kg3,Rxe2', 'https://lichess.org/training/HK2QJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hK42n', 'Rapid', 'sesese60', 2213, 'Pellmel', 2199, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,Bg5,Nc2,Ne7,Ncb4,O-O,Nxe7+,Qxe7,Nd5,Qd8,a4,bxa4,Rxa4,Rb8,b4,Qd7,Bxa6,Bxa6,Rxa6,Qb5,Rxd6,f5,Qe2,Qxe2+,Kxe2,Rfd8,Rxd8+,Rxd8,h4,fxe4,hxg5,Rxd5,Rc1,Rd3,c4,Rb3,c5,Rxb4,c6,Rb8,c7,Rc8,Ke3,Kf7,Kxe4,Ke6,f3,Kd6,Kf5,Rf8+,Ke4,Rc8,g6,hxg6,Rc2,Rxc7', 'Rxc7,Kxc7,Kxe5', 'https://lichess.org/training/hK42n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hk4iB', 'Rapid', 'dwolg', 1752, 'SandeepGhosh', 1735, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Nxc6,bxc6,Bf4,e5,Bg5,Be7,Nc3,O-O,Qf3,h6,Bxf6,Bxf6,O-O,Re8,Ne2,Be6,Ng3,d5,exd5,Bxd5,Be4,Rb8,b3,Rb4,c4,Bxe4,Nxe4,a5,Rad1,Qe7,Nd6,Rd8,c5,a4,Qxc6,axb3,axb3,Rxb3,Rc1,g6,Rfd1,Bg5,Rc2,Rb7,Qd5,Rc7,Qf3,Qe6,Re1', 'Rxd6,cxd6,Rxc2', 'https://lichess.org/training/Hk4iB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hk4xQ', 'Rapid', 'msoleimany', 1998, 'Zugham', 1881, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,h4,h6,Bc4,e6,Ne5,Bh7,c3,Nbd7,Nxd7,Qxd7,Be3,Bd6,Ne2,O-O,O-O,Nd5,Bxd5,exd5,Bf4,Rfe8,Bxd6,Qxd6,Ng3,a5,Qg4,Qe6,Qxe6,Rxe6,Rfe1,Rae8,Rxe6,Rxe6,f3,a4,Kf2,Bd3,Rd1,Bc2,Rd2,Bg6,h5,Bh7,a3,Kf8,Ne2,g5,hxg6,fxg6,Nf4,Rf6,g3,g5,Nh5,Re6,Re2,Rxe2+,Kxe2,Kf7,Ke3', 'Bg6,Nf4,gxf4+', 'https://lichess.org/training/Hk4xQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hk54b', 'Blitz', 'Oelot-29', 2093, 'GM AGG2020', 2497, 'c4,e5,g3,Nc6,Bg2,d6,Nc3,Bd7,d3,g6,Nf3,Bg7,O-O,f5,Qc2,Nf6,Rb1,Rb8,b4,a6,b5,axb5,Nxb5,O-O,a4,h6,Bb2,g5,c5,g4,cxd6,cxd6,Nd2,d5,Qb3,Be6,Rfc1,Rf7,Na3,Qd7,e3,d4,Qb6,dxe3,Rxc6,Nd5,Bxd5,Bxd5,Rd6,Qxa4,Ndc4,Bc6,Bxe5,e2,Bxg7', 'Qd1+,Rxd1,exd1=Q#', 'https://lichess.org/training/Hk54b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hk6pd', 'Rapid', 'AgadmatorsMedo', 1704, 'jra55', 1749, 'e4,c6,c4,c5,Nf3,Nc6,Nc3,d6,d4,cxd4,Nxd4,Nxd4,Qxd4,e5,Qd3,Be6,Be2,Rc8,b3,Ne7,O-O,Nc6,Be3,Nb4,Qd2,f6,a3,Nc6,f4,exf4,Rxf4,Ne5,Raf1,Be7,Nb5,a6,Nd4,Bd7,R1f2,O-O,Qd1,Ng6,R4f3,Bg4,Rg3,Bxe2,Qxe2,Ne5,Ne6,Qa5,Nxf8,Rxf8,Bh6,Ng6,Bc1,Bd8,b4,Qb6,Be3,Qc7,h4,d5,Rh3,dxe4,h5,Ne5,Bf4,Qe7,c5,Nd3,Bd6,Qe6,Bxf8,Nxf2,Bxg7', 'Nxh3+,gxh3,Kxg7', 'https://lichess.org/training/Hk6pd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hk82o', 'Classical', 'lamedoran', 1862, 'ron51', 1922, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Be3,O-O,Qd2,Nc6,Ne2,e5,Rd1,Bg4,d5,Na5,f3,Nc4,Qc1,Nxe3,Qxe3,Bd7,c4,Ba4,Rb1,b6,Nc3,Be8,c5,bxc5,Qxc5,Rb8,Rb3,Rxb3,axb3,Qb8,Bc4,Bd7,O-O,Rd8,Ra1,Bf8,Qxa7', 'Qxa7+,Rxa7,Bc5+', 'https://lichess.org/training/hk82o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hK8lq', 'Classical', 'kotleta_s_pI0reshkoy', 2062, 'JerryDrake', 2105, 'd4,Nf6,Nc3,e6,Nf3,c5,e3,d5,b3,a6,a4,cxd4,exd4,Bb4,Bd2,O-O,Bd3,Qc7,Ne2,Bd6,Ng3,Nc6,Bg5,Nd7,Be3,Bb4+,Kf1,Ne7,h4,b6,Ng5,h6,Nh7,Re8,Qg4,f5,Qh5,Bb7,Ng5,hxg5,hxg5,Kf8,g6,Ng8,Bg5,Ndf6,Qh8,Re7,Nh5,Ng4,f3,Nh2+,Kg1,Bc3,Bxe7+,Qxe7,Rd1', 'Bxd4+,Kxh2,Qh4#', 'https://lichess.org/training/hK8lq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hK9XA', 'Blitz', 'isaaclaz123', 1824, 'lukasho', 1808, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Nf6,Bd3,O-O,O-O,d6,b4,b6,Nd2,Bb7,Qe3,Re8,Qh3,Bxe4,Nxe4,Nxe4,Rfe1,Nf6,Rxe8+,Qxe8,Rd1,h6,a3,Qc6,Qf5,Re8,h3,Qc3,Qf3,Re1+,Kh2,Qe5+,g3,Rxd1,Qxd1,Ne4,Qf3,Ng5', 'Qa8+,Qe8,Qxe8#', 'https://lichess.org/training/hK9XA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HKA6k', 'Blitz', 'zhosstanislav', 1592, 'MrTUF', 1590, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,c5,Nd5,Qd8,Nxf6+,exf6,dxc5,Bxc5,Bb5+,Bd7,Qe2+,Be7,Bxd7+,Qxd7,O-O-O,O-O,Bb4,Qxd1+,Qxd1,Bxb4,Nf3,Nc6,Nd4,Nxd4,Qxd4,a5,Rd1,h6,Kb1,Rfe8,a3,Bf8,Qd5,Re5,Qf3,Rb8,Rd5,Ree8,Rb5,b6,h4,Bc5,g4,Re1+,Ka2,Rd8,g5,fxg5,hxg5,hxg5,Qf5,f6,f4,gxf4,Qxf4,Rdd1,Qb8+,Kf7,Qc7+,Kg6,Qg3+,Kf7,a4', 'Ra1+,Kb3,Re3+,Qxe3,Bxe3', 'https://lichess.org/training/HKA6k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKaAn', 'Rapid', 'lutekhin', 1925, 'Bob_Morane', 2037, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Ne4,cxd4,Bb4+,Bd2,Nxd2,Nbxd2,O-O,O-O,d6,exd6,Qxd6,a3,Bxd2,Qxd2,Bg4,Be2,Bxf3,Bxf3,Nxd4,Rad1,Nxf3+,gxf3,Qxd2,Rxd2,Rad8,Rfd1,Rxd2,Rxd2,Rc8,f4,Kf8,b4,Ke7,Kg2,c6,f5,Rc7,Kg3,Rd7,Re2+,Kf6,Kg4,Rd4+,f4,h5+,Kg3,Rd3+,Kh4,Rxa3,Kxh5,Kxf5,h4,Kf6,Kg4,Ra4,Rb2,b6,h5,Ke7,Kg5,a5,bxa5,Rxa5+,f5,Rb5,Re2+,Kd6,Rd2+,Rd5', 'Rxd5+,Kxd5,f6', 'https://lichess.org/training/hKaAn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hkarR', 'Rapid', 'CakaSatan', 1803, 'andy81944', 1921, 'd4,d5,Nf3,Nf6,e3,Bf5,Be2,e6,O-O,Bd6,Nc3,c6,Nh4,Bg6,Nxg6,hxg6,h3,Qc7,f4,Nbd7,Qd3,O-O-O,e4,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qe3,Nd5,Qe4,Rh4,g3,Rxh3,Bg4,f5', 'Qxe6+,Kb8,Bxh3', 'https://lichess.org/training/hkarR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hkAt5', 'Blitz', 'TheSundanc3Kid', 1986, 'Viktor26', 2014, 'c4,Nf6,Nf3,c6,d4,d5,g3,Bg4,Ne5,Bf5,Qb3,Qb6,cxd5,Qxb3,axb3,Nxd5,Nc3,Nb4,Ra4,Nc2+,Kd1,b5,Ra2,Nxd4,Be3,Nxb3,Bg2,b4,Nd5,cxd5,Bxd5,f6,Nd3,e6,Bxa8,Be7,Rxa7,Kf7,Bg2,Rd8,Kc2,Nd4+,Bxd4,Rxd4,Rd1,Nd7,e3,Rd6,e4,Bg4,f3,Bh5,Nf4,Rc6+,Kb3,Nc5+,Ka2,b3+,Kb1,Bg6,Nxg6,hxg6,f4,e5,fxe5,fxe5,Rf1+,Ke8,Bh3,Nxe4,Ra8+,Bd8,Rd1,Nd6,Rd3,Ke7,Rxb3,Nc4,Rb7+,Bc7,Rc8', 'Nd2+,Ka1,Ra6#', 'https://lichess.org/training/hkAt5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HKAWv', 'Rapid', 'YusufP', 2035, 'fatihguven', 2024, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,d6,Bg5,Be7,Nc3,Be6,O-O,O-O,h3,h6,Bh4,Nh5,Bxe7,Qxe7,Bxc6,bxc6,Nxe5,Nf4,Nxc6,Qg5,Qf3,Nxh3+,Kh1,Nf4,Qg3,Qh5+,Kg1,Ne2+,Nxe2,Qxe2,Rac1,Bxa2,b3,a5,Nd4,Qd2,Ra1,c5,Nf3,Qxc2,Qxd6,Bxb3,Rfc1,Qe2,Qxc5,Rfc8,Qxc8+,Rxc8,Rxc8+,Kh7,Rxa5,Qxd3,Ra3,Qd7,Rc3', 'Qd1+,Kh2,Qd6+,e5,Qxa3', 'https://lichess.org/training/HKAWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKCER', 'Classical', 'Andi45', 1626, 'srikantapaul', 1614, 'b3,e5,Bb2,f6,e3,Bc5,c4,Nh6,d4,exd4', 'Qh5+,Nf7,Qxc5', 'https://lichess.org/training/hKCER');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HKCh1', 'Rapid', 'Davidsongsilva', 1841, 'abch', 1846, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Ne7,O-O,Nd7,c4,dxc4,Qxc4,Nf5,Nbd2,Nb6,Qc3,Nd5,Qb3,Qd7,Ne4,Be7,a3,O-O,Bg5,h6,Bxe7,Qxe7,Rac1,Rfd8,Rfd1,Nf4,Kf1,g5,h3,Nd5,Rd2,Nh4,Rcd1,Ng6,g3,f5,Nc5,Rab8,Nd3,g4,hxg4,fxg4,Nh2,h5,Nc5,Rf8,Kg1,Qf7,Qd3,b6,Nd7,Qxd7,Qxg6+,Qg7,Qxh5,Rf5,Qxg4,Rg5,Qxe6+,Kh8,Qh3+,Kg8,Qe6+,Kh8,Rd3,Nf4,Qxc6,Nxd3,Rxd3,Rf8,Qg2,Qh7,Nf3,Rh5,Rc3', 'Qb1+,Qf1,Rh1+,Kxh1,Qxf1+', 'https://lichess.org/training/HKCh1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hkGhu', 'Rapid', 'MSSAAD', 1992, 'Juan_Ve', 1922, 'e4,e6,Nf3,d5,Nc3,c5,exd5,exd5,Bb5+,Bd7,Qe2+,Be7,Nxd5,Nc6,d3,a6,Bxc6,Bxc6,Nxe7,Nxe7,Bg5,O-O,Qxe7', 'Re8,Qxe8+,Qxe8+', 'https://lichess.org/training/hkGhu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKGsi', 'Rapid', 'papin1', 1687, 'AntonU2000', 1689, 'e4,e6,f4,d5,Nf3,dxe4,Ng5,Nf6,d3,exd3,Bxd3,h6,Nxf7,Kxf7,Bg6+,Ke7,O-O,Qxd1,Rxd1,Nc6,Nc3,a6,b3,b5,Ba3+,b4,Bb2,bxc3', 'Ba3+,Nb4,Bxb4+,c5,Bxc5#', 'https://lichess.org/training/hKGsi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HkIGT', 'Rapid', 'Matheus_06', 1726, 'OsmarChess075', 1674, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,O-O,e4,d6,Nge2,Nbd7,O-O,e5,d3,Qe7,Bg5,h6,Nd5,Qe6,Nxf6+,Nxf6,Bxf6,Qxf6,h3,Be6,Kh2,Qe7,f4,f5,Qc2,fxe4,dxe4,exf4,Nxf4,g5', 'Ng6,Qd7,Nxf8', 'https://lichess.org/training/HkIGT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hkiJj', 'Rapid', 'coco_p969', 1683, 'notarealbanana', 1690, 'c4,e5,e4,Nc6,Nf3,Nf6,Nc3,Bb4,Nd5,Nxe4,Nxb4,Nxb4,Nxe5,Qe7,d4,d6,Nf3', 'Nc3+,Be3,Nxd1', 'https://lichess.org/training/hkiJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKiKA', 'Blitz', 'Ahmedfawaz123', 1850, 'akop4eek', 1837, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Bd5,O-O,Bxc6,dxc6,Nxe5,Re8,Nd3,Bb6,e5,Nd7,Re1,Nc5,Nxc5,Bxc5,Nc3,Qd4,Qe2,Rxe5,Qxe5,Qxf2+,Kh1,Bh3,Qg3', 'Bxg2+,Qxg2,Qxe1+,Qf1,Qxf1#', 'https://lichess.org/training/hKiKA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hkJC4', 'Blitz', 'FM Casuallyyy', 2611, 'FM jgeg', 2546, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,c6,Bd3,Nbd7,Nge2,O-O,O-O,Re8,Qc2,Nf8,Rad1,Nh5,Bxe7,Qxe7,Kh1,Bd7,Rfe1,Qh4,Kg1,Re6,g3,Qg5,b4,Rae8,Qd2,Rh6,b5,Nf6,Nf4,Bg4,Be2,cxb5,Nxb5,Ne4,Qb2,Nxf2,Kxf2,Bxe2,h4,Rxh4,gxh4', 'Qxh4+,Kxe2,Qh2+,Kf3,Qxb2', 'https://lichess.org/training/hkJC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKJTh', 'Blitz', 'Lofranx', 1824, 'ichaparro', 1816, 'e4,e5,d4,exd4,Qxd4,Nc6,Qa4,d6,Bb5,Bd7,Nf3,Nf6,Nc3,Be7,O-O,O-O,Bg5,a6,Bxc6,Bxc6,Qd4,Re8,Rad1,Qd7,Bxf6,Bxf6,e5,Bxe5,Nxe5,Rxe5,Rfe1,Rg5,g3,Qh3,Ne4,Rg4,f3,Bxe4,Rxe4,Rxe4,Qxe4,Rb8,Re1,Kf8', 'Qe7+,Kg8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/hKJTh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HKjUZ', 'Blitz', 'nux', 1705, 'trompfreak', 1687, 'd4,d5,c4,c6,Bf4,Nf6,Nc3,e6,e3,Bd6,Bg3,O-O,Nf3,Qe7,Bh4,Nbd7,Bd3,h6,Qc2,b6,O-O,Bb7,e4,dxe4,Nxe4,g5,Nxd6,Qxd6,Bg3,Qe7,Ne5,Nh5,Nxf7,Nxg3', 'Bh7+,Kxf7,Qg6#', 'https://lichess.org/training/HKjUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HKJvR', 'Blitz', 'DennisEckersley', 1604, 'kzce', 1569, 'e4,d5,exd5,Nf6,Bc4,Bg4,Nf3,c6,dxc6,Nxc6,d3,e6,Bg5,Bc5,Nbd2,Qb6,Bb3,Bxf2+,Kf1,O-O-O,Nc4,Qb5,Kxf2,h6,Bh4,g5,Bg3,Nd4,Nd6+,Rxd6,Bxd6,Nxf3,gxf3,Qb6+,Kg2,Qxd6,fxg4,h5,Rf1,hxg4,Rxf6,Qxh2+,Kf1,Qh1+,Ke2,Rh2+,Ke3,Rh3+,Kd4,Qc6,Qf1,b6,Rxf7', 'Qc5+,Ke4,Re3#', 'https://lichess.org/training/HKJvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKK3W', 'Rapid', 'AlexeyChampion', 1999, 'Makaron02', 1952, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,h6,O-O,a6,a4,O-O,h3,d6,Ne2,Be6,Bxe6,fxe6,a5,d5,exd5,exd5,Nc3,Bb4,Re1,d4,Ne4,Bxe1,Qxe1,Nxe4,Qxe4,Qf6,c3,Qf5,Qe2,dxc3,bxc3,Rad8,d4,exd4,cxd4,Nxd4,Nxd4,Rxd4,Qb2,Rd1+,Kh2,Qxf2', 'Qb3+,Kh7,Qxd1', 'https://lichess.org/training/hKK3W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hkKBN', 'Blitz', 'Alexmosh17', 1767, 'AngelchessReal', 1758, 'd4,Nf6,c4,g6,e3,d5,Nc3,Bg7,Nf3,dxc4,Bxc4,c6,O-O,O-O,h3,Nbd7,a3,Nb6,Bb3,Nbd5,Nxd5,Nxd5,e4,Nc7,Be3,Be6,Bxe6,Nxe6,Qd2,h5,Rad1,Kh7,Ng5+,Nxg5,Bxg5,Re8,e5,Qb6,Qb4,Qxb4,axb4,e6,Ra1,a6,Rad1,Bf8,Bd2,Rad8,Bc3,Rd5,f4,Rb5,g4,Bxb4,f5,exf5,gxf5,Bxc3,bxc3,Rb3,Rd3,gxf5,Rxf5,Rg8+,Kf2,Rb2+,Kf3,h4,Rxf7+,Kh8,Rf4', 'Rg3+,Ke4,Re2+,Kf5,Rxd3', 'https://lichess.org/training/hkKBN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKly0', 'Rapid', 'Chess_Detonator', 1911, 'gserp', 1881, 'd4,Nf6,Nf3,e6,e3,d5,Bd3,c5,c3,Nc6,O-O,b6,Ne5,Bb7,f4,Be7,Qf3,O-O,g4,Nd7,g5,Ncxe5,dxe5,g6,Nd2,Qc7,Qh3,Rad8,Qh4,Rfe8,Rf3,Nf8,Rh3,d4,cxd4,cxd4,e4,Bc5,Nf3,Qd7,Bd2,Bc6,Rf1,Bb5,Bxb5,Qxb5,Kg2,Qxb2,f5,exf5,exf5,Rxe5', 'Nxe5,Qxd2+,Rf2', 'https://lichess.org/training/hKly0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HkN0V', 'Rapid', 'andrews55', 1851, 'gardee', 1813, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Nge7,Bd3,Qb6,Nc3,Nf5,Bxf5,exf5,Nxd5,Qa5+,Nc3,Bb4,Bd2,O-O,O-O,f4,a3,Bxc3,Bxc3,Qb6,d5,Na5,b4,Nc4,Qb3,Bg4,Qxc4,Bxf3,gxf3,Qg6+,Kh1,Rac8,Qb3,Qd3,Qd1,Qxc3,Re1,Qb2,d6,Qxf2,d7', 'Rc2,Qxc2,Qxc2', 'https://lichess.org/training/HkN0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKnDi', 'Rapid', 'fjodor81', 1603, 'ogaiht', 1669, 'e4,e5,d3,Nc6,Nf3,Nf6,h3,d6,Be3,h6,c3,g5,g4,Rg8,Rg1,Be7,d4,exd4,cxd4,Nxe4,d5,Ne5,Nxe5,dxe5,Nc3,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/hKnDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HKqbc', 'Classical', 'm_sharov', 1673, 'aaaaaaaaa555', 1745, 'e4,d6,d4,c6,Nf3,Bg4,Be2,h6,Be3,e6,d5,e5,Nc3,Bxf3,Bxf3,c5,Qd3,a6,Bg4,Nf6,h3,Nxg4,hxg4,Nd7,Qd2,g5,g3,Be7,f4,gxf4,gxf4,exf4,Bxf4,Bh4+,Ke2,Qe7,Bxh6,Ne5,g5,Ng6,Rag1,b5,a3,b4,axb4,cxb4,Na4,Qxe4+,Kd1,b3', 'Re1,Bxe1,Rxe1', 'https://lichess.org/training/HKqbc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HkqC7', 'Rapid', 'FELIPEWLK', 1696, 'gummibaer', 1637, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,e6,Nf3,a6,O-O,b5,Bd3,Nbd7,Nc3,Bb7,h3,c5,dxc5,Nxc5,Bc2,Qc7,a3,Bd6,b4,Nce4,Nxe4,Nxe4,Bb2,O-O,Rc1,Qe7,Qd4,Nf6,Ng5,h6,Ne4,Bxe4,Bxe4,Rac8,Bb1,Rfd8,Qh4,Nd5,Qg4,f5,Qf3,a5,e4,fxe4,Qxe4,Nf6,Bxf6,Qxf6,bxa5,Bxa3,Rxc8,Rxc8,Re1,Bb4,Qxe6+', 'Qxe6,Rxe6,Rc1+,Kh2,Rxb1', 'https://lichess.org/training/HkqC7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HKSeB', 'Rapid', 'casalotu', 1800, 'T39U', 1742, 'd4,d5,e3,e6,Nf3,c5,dxc5,Bxc5,Bd3,Nf6,a3,O-O,b4,Bd6,c4,dxc4,Bxc4,Nc6,Bb2,Ne4,Bd3,f5,Nd4,Qh4,g3,Nxg3,fxg3,Bxg3+,Kd2,Be5,Nf3', 'Qf2+,Qe2,Qxe2+,Kxe2,Bxb2,Ra2,Bf6', 'https://lichess.org/training/HKSeB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hksfM', 'Rapid', 'Racger', 2289, 'Pip2017', 2219, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,Bg4,Be2,Bxf3,Bxf3,e5,fxe5,dxe5,d5,Nbd7,O-O,Nc5,Bg5,h6,Bh4,g5,Bf2,Ncd7,h4,Nh7,hxg5,hxg5,Be3,Ndf6,Qd2,g4,Be2,Qd7,Rf5,Nxe4,Nxe4,Qxf5,Bd3,Qh5,Ng3,Qh4,Nf5,Qd8,Bh6,Bxh6,Qxh6,Qg5,Ne7+,Kh8', 'Qxh7#', 'https://lichess.org/training/hksfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKUtp', 'Rapid', 'nesa10', 2031, 'sutek001', 2024, 'e4,c5,Nf3,Nc6,Nc3,Nf6,Bb5,g6,Bxc6,dxc6,d3,Bg7,Be3,b6,Qd2,O-O,Bh6,Ba6,h4,c4,O-O-O,cxd3,cxd3,Qc7,h5,Ng4,Bxg7,Kxg7,hxg6,hxg6,Qg5,Qd7,Ne5,Nxe5,Qxe5+,f6,Qg3,Rh8,d4,Rxh1,Rxh1,Rh8,Rxh8,Kxh8,d5,c5,Qxg6,Bd3,Qh5+,Kg7,Qh3,Qxh3,gxh3,b5,Kd2,Bf1,h4,Kh6,a4,b4,Nb5,a6,Nc7,Kh5,Ne8,Kxh4,d6,exd6,Nxd6,Kg5,Ke3,Bh3,f4+,Kg6,f5+,Kg7,Nb7,c4,Nd6,Bf1,Kd4', 'c3,bxc3,b3', 'https://lichess.org/training/hKUtp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HkV0e', 'Blitz', 'Vvagaoo', 1874, 'themrnobody', 1841, 'e3,e5,Be2,d5,d3,Nc6,Nd2,Nf6,c3,e4,Qc2,exd3,Bxd3,Bd6,h3,Be6,b3,Ne5,Be2,Qd7,Bb2,c5,a3,a6,Ngf3,Ng6,Ng1,Ne5,Ngf3,Bf5,e4,Nxf3+,Bxf3,dxe4,Nxe4,Nxe4,Bxe4,Qe6,f3,Bg3+,Kf1,O-O,Bxf5,Qe3,Qe2,Qf4,Be4,f5,Bd5+,Kh8,c4,Rae8,Qc2,Qe3,Bc1,Qd4,Bb2,Qe3,h4', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/HkV0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HKVeB', 'Blitz', 'Geniomilton', 2053, 'Fercami13', 2054, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Nc6,c4,Nb6,a4,a5,Bd3,dxe5,dxe5,Bg4,c5,Nd5,Qe2,e6,O-O,Bxc5,Rd1,Bxf3,gxf3,Qh4,Nc3,Nxc3,bxc3,Nxe5,Qxe5', 'Qxf2+,Kh1,Qxf3#', 'https://lichess.org/training/HKVeB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKvwt', 'Blitz', 'REAL_ARIES', 2270, 'Maximus43', 2214, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nf6,Nf3,Nc6,Be3,Bg4,Bd3,e6,O-O,Be7,Qd2,O-O,a3,Rc8,Ne5,Bh5,f3,a6,f4,Bg6,f5,exf5,Bxf5,Rc7,g4,Bxf5,gxf5,Na5,Qg2,Kh8,Rf3,Nc4,Rh3,Nxe3,Rxe3,Bd6,Rh3,b5,Rf1,Rxc3,bxc3,Ne4,Rf4,Qc7,Rfh4,Nf6,Ng4,Rg8,Rxh7+,Nxh7', 'Rxh7+,Kxh7,Qh3#', 'https://lichess.org/training/hKvwt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKx1r', 'Classical', 'worldchampion2B', 1948, 'gornyszymon', 1920, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,d3,Nf6,Qe2,Qe7,Bg5,Bb4,a3,Bxc3+,bxc3,h6,Be3,O-O,O-O,Be6,Bb3,Bxb3,cxb3,Ng4,Bd2,Nf6,Nh4,d5,Nf5,Qe6,exd5,Nxd5,Qg4,Qg6,Qe4,Nf6,Qf3,Rfe8,Rae1,Re6,d4,exd4,Rxe6,fxe6,Nxd4,Nxd4,cxd4,Qe4,Qe3,Qxe3,Bxe3,Nd5,Bd2,Rd8,Rd1,e5,dxe5', 'Nc3,Re1,Rxd2', 'https://lichess.org/training/hKx1r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HkxMW', 'Rapid', 'Pennybrig', 1986, 'Idris2021kurdistan', 1984, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,Be7,d4,O-O,Bd3,b6,O-O,Bb7,c3,Nbd7,Bg5,c5,Ne5,Nxe5,dxe5,Nd5,Bxe7,Qxe7,Bc2,Rad8,Qd3,Nf6', 'exf6,Rxd3,fxe7', 'https://lichess.org/training/HkxMW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HkyN4', 'Rapid', 'ChessEFNCT', 1788, 'ifekali', 1642, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,O-O,O-O,Bg5,d6,Nc3,Bg4,Nd5,Nd4,Nxf6+,gxf6,Bh6,Nxf3+,gxf3,Bh3,Kh1,Bxf1,Qxf1,Kh8,Qh3,Qe7,Rg1,Rg8,Rg4,Bxf2,Rg2,Rxg2', 'Qxg2,Rg8,Qxf2', 'https://lichess.org/training/HkyN4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HKyv9', 'Blitz', 'Baydemir', 1937, 'JuventusJL', 1903, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Be3,Qc7,Be2,Nf6,f3,Bc5,c3,Nc6,O-O,O-O,Nd2,e5,Nf5,Bxe3+,Nxe3,b5,Nd5,Nxd5,exd5,Ne7,Ne4,d6,Kh1,Nf5,Qd2,Bb7,Rad1,Rad8,b3,Qb6,Bd3,Ne3,Qf2,Rb8,Rfe1,f5,Ng5,f4,Rc1,g6,Qh4,Qc7,Ne6,Qd7,Nxf8,Rxf8,Be4,Bxd5,Rxe3,fxe3,Bxd5+,Kg7,Qe4,Qa7,Re1,Qc5,Rxe3,Rf4,Qd3,b4,cxb4,Qxb4,h3,Rd4,Qxa6,Rxd5,Qa7+,Kh6,Re4,Rd1+,Kh2,Qe1,Qf7,Qh1+,Kg3,Rg1,Rh4+,Kg5,f4+,exf4+', 'Qxf4#', 'https://lichess.org/training/HKyv9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hKz4i', 'Rapid', 'capmaged1', 1886, 'Canemuto', 1618, 'e4,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Nf3,f6,Bc4,Bc5,O-O,c6,Nc3,Kc7,a3,b5,Bb3,Ne7,a4,b4,Na2,a5,Be3,Bxe3,fxe3,Na6,Nc1,Nc5,Nd2,Rd8,Nd3,Nd7,Be6,Ba6,Bxd7,Rxd7,Nf3,Bxd3,cxd3,Rxd3,Kf2,Rad8,Rac1,Rb3,Rc2,Kb6,Rfc1,Rdd3,Nd2,Rxe3', 'Nc4+,Ka7,Nxe3', 'https://lichess.org/training/hKz4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hkzdt', 'Rapid', 'Smartvalley', 1950, 'haawri', 1946, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,d6,O-O,Be7,Qe2,Nf6,Rd1,e5,h3,O-O,b4,Be6,b5,Bxc4,Qxc4,Na5,Qe2,Qc7,Bb2,Nc4,Rac1,Nxb2,Qxb2,Qb6,Qe2,Rac8,a4,Qa5,Rd3,Rc4,Nd2,Rc7,Nb3,Qb4,Qb2,Nxe4', 'Nd5,Rxc1+,Qxc1', 'https://lichess.org/training/hkzdt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HkZlY', 'Rapid', 'ESERRRFENERRR', 1806, 'Artem_Zherdev_210C', 1819, 'e4,e5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Nc3,g6,d4,Bg7,dxe5,Nxe5,Nxe5,dxe5,Bg5,O-O,Nd5,Qd6', 'Nxf6+,Bxf6,Qxd6,cxd6,Bxf6', 'https://lichess.org/training/HkZlY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hl0HY', 'Blitz', 'Joglo', 2317, 'FM rectifhigh', 2451, 'd4,Nf6,Nf3,b6,Bf4,Bb7,e3,Nh5,Bg5,h6,Bh4,c5,c3,g5,Bg3,d6,Bd3,Nd7,Nbd2,Bg7,Qe2,a6,a3,b5,Rd1,Rc8,Be4,Qb6,Bxb7,Qxb7,O-O,Nxg3,fxg3,O-O,e4,cxd4,cxd4,Rc2,Rb1,Rfc8,Kh1,Nb6,Qd3,Na4,e5,Nxb2,Qf5,e6,Qg4,dxe5,dxe5,Nd3,Ne4,R8c4,Nfxg5,hxg5,Qf3,Nxe5', 'Nf6+,Bxf6,Qxb7', 'https://lichess.org/training/Hl0HY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hL1he', 'Rapid', 'Aromatoriys', 1718, 'MirekVeverka', 1741, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Nc3,e6,Nf3,Bxb5,Nxb5,Nf6,d4,Qa5+,Nc3,Ne4,Bd2,Nxd2,Qxd2,Bd6,O-O-O,Nc6,a3,Bxa3,Nb1,Bxb2+,Kxb2,Qb5+,Kc1,O-O-O,c3,Kb8,Qf4+,Ka8,Rd2,Rc8,Rb2,Qa4,Qxf7,Nb4,Rxb4,Qxb4,Nfd2,Rhf8,Qxe6,Rfe8,Qg4', 'Rxc3+,Nxc3,Qxc3+,Kd1,Qa1+,Kc2,Qxh1', 'https://lichess.org/training/hL1he');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HL3e2', 'Rapid', 'l812', 1691, 'Mm1374', 1724, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,d5,d3,Bd6,dxe4,Bxe5,exd5,O-O,Nc3,Bxc3+,bxc3,Qxd5,Be3,Re8,Rd1,Qxa2,Qf3,Qxc2,Bd3,Qxc3+,Rd2,Nd7,O-O,Nf6,Bg5,h6', 'Bh7+,Kxh7,Qxc3', 'https://lichess.org/training/HL3e2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hL3LY', 'Rapid', 'LH1000', 1924, 'dufyduck', 1998, 'e4,e5,Bc4,Nf6,Nf3,Bc5,d4,exd4,e5,d5,exf6,dxc4,fxg7,Rg8,Bg5,f6,Qe2+,Kf7,Qxc4+,Kxg7,Bxf6+,Qxf6,Qxc5,Re8+,Kf1,Na6,Qxd4,Qxd4,Nxd4,c5,Ne2,Nb4,Na3,Bf5,c3,Nd5,Rd1,Rad8,c4', 'Ne3+,fxe3,Rxd1+', 'https://lichess.org/training/hL3LY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hl5CD', 'Rapid', 'TimJones72', 1929, 'real145', 1905, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,c3,Nf6,O-O,b5,Bc2,O-O,d4,exd4,cxd4,Bb6,Bg5,h6,Bh4,d6,Nc3,Nb4,a3,Nxc2,Qxc2,g5,Nxg5,hxg5,Bxg5,Bxd4,Nd5,Be6,Rfd1,Bxf2+,Qxf2,Nxe4,Bxd8,Nxf2,Kxf2,Rfxd8,Nxc7,Ra7,Nd5,Rb7,Rac1,a5,Rc7', 'Bxd5,Rxb7,Bxb7', 'https://lichess.org/training/Hl5CD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hL6If', 'Classical', 'Abs53', 1955, 'Szczurson153', 1967, 'e4,c5,Nf3,d6,Bc4,Nf6,e5,d5,Bb5+,Nfd7,O-O,a6,Bd3,Qc7,e6,fxe6,Re1,e5,Nxe5,Nxe5,Qh5+,Ng6', 'Bxg6+,hxg6,Qxh8', 'https://lichess.org/training/hL6If');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HL6R2', 'Rapid', 'mkitar', 1979, 'riizki', 1863, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,e3,d6,Nf3,Bg4,Be2,c5,O-O,cxd4,Nxd4,Bxe2,Qxe2,Nc6,Rfd1,Ne5,Nf3,Ned7,h3,Rc8,Rac1,Ne8,Nd5,f6,Bf4,e5,Bg3,f5,Bh4,Ndf6,Bxf6,Nxf6,b3,b6,Nd2,Nh5,e4,f4,g4,fxg3,fxg3,Nxg3,Qg4,Nh5,Rf1,Nf6,Nxf6+,Bxf6,Qe6+,Kg7,Nf3,Qc7,Rcd1,Qc5+,Kg2,Qe3,Rfe1,Qf4,Rxd6,Bh4,Rd7+,Kh6,Qg4,Qxg4+,hxg4,Bxe1,Nxe1,a5,Nf3,Rf4', 'g5+,Kh5,Rxh7+,Kg4,Rh4#', 'https://lichess.org/training/HL6R2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hL7Dy', 'Rapid', 'KonstantinSrulevich', 1664, 'DougDimmadome', 1658, 'e4,e5,Nf3,Nf6,d3,Nc6,Bg5,h6,Bh4,g5,Bg3,d6,Nbd2,Bg4,h3,Bh5,Be2,Qd7,O-O,O-O-O,Nh2,Bg6,Ng4,Qe7,a4,Nd4,Nxf6,Qxf6,Bg4+,Kb8,Nb3,h5,Nxd4,hxg4,hxg4,exd4,b4,d5,f3,Bd6,Bf2,Rh1+,Kxh1,Rh8+,Kg1,Rh1+,Kxh1,Qh8+,Bh4,Qxh4+,Kg1,Qh2+,Kf2', 'Bg3+,Ke2,Qxg2+,Rf2,Qxf2#', 'https://lichess.org/training/hL7Dy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HL8AI', 'Classical', 'Vijayvictory1989', 1747, 'Commodore3', 1760, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Qb6,Bd3,Nc6,dxc5,Bxc5,Na4,Qa5+,c3,Be7,b4,Nxb4,cxb4,Bxb4+,Bd2,Bxd2+,Nxd2,O-O,O-O,b6,Qc2,Bb7,Bxh7+,Kh8,Bd3,Rac8,Qd1,g6,Rf3,Kg7,Rg3,Rc7,f5,Nxe5,fxg6,Nxd3,gxf7+,Kxf7,Qf3+,Ke8,Qxd3,Qxa4,Qg6+,Kd8,Qxe6', 'Qd4+,Re3,Qxa1+', 'https://lichess.org/training/HL8AI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HL8m4', 'Rapid', 'hharieri', 1623, 'mikos1', 1797, 'd4,d5,c4,c6,cxd5,cxd5,Nf3,Nc6,e3,Bg4,h3,Bh5,Bb5,a6,Bd3,e5,dxe5,Nxe5,O-O,Nxd3,Qxd3,Bxf3,gxf3,Qg5+,Kh2,Bd6+,f4,Nf6,Rg1,Qh6,Nc3,O-O,b3,Rad8,Bb2,Kh8,Qf5,Rfe8,Rg3,Nh5,Rg5,g6,Nxd5+,Kg8,Qg4,Re6,Rxh5,Qxh5,Qxh5,gxh5,Rg1+,Rg6,Nf6+,Kf8,Nxh7+,Ke7,Ng5,f6,Ne4,Rxg1,Kxg1,Rf8,Kg2,Bc7', 'Ba3+,Kf7,Bxf8', 'https://lichess.org/training/HL8m4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hlafl', 'Rapid', 'jhalok', 1904, 'atttmane', 1971, 'Nc3,e5,d4,exd4,Qxd4,b6', 'Qe4+,Ne7,Qxa8', 'https://lichess.org/training/hlafl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HLbId', 'Rapid', 'afrikano', 1640, 'SayCheckOneMoreTime', 1719, 'e4,e6,d4,Ne7,Bg5,b6,a3,Bb7,Nc3,d5,e5,h6,Bh4,g5,Bg3,Bg7,h3,f6,Qh5+,Kd7,Bb5+,Bc6,Bd3,Qe8,Qe2,h5,Bh2,Kc8,Ba6+,Bb7,Bb5,Nd7,a4,Nc6,a5,Nxd4,Bxd7+,Qxd7,Qd3,fxe5,axb6,e4,Qd2,cxb6,Ra4,Nb5,Nxb5,Qxb5,b3,Ba6,c4,dxc4', 'Rxc4+,Qxc4,bxc4', 'https://lichess.org/training/HLbId');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hlbL1', 'Blitz', 'Papillon2017', 1612, 'LittleLeela', 2407, 'd4,Nf6,c4,c6,Nf3,d5,cxd5,cxd5,Bg5,Ne4,Bf4,Nc6,Nc3,e6,e3,g5,Be5,f6,Bg3,h5,h4,Nxg3,fxg3,Bd6,Kf2,g4,Nd2,Qc7,a3,Bxg3+,Kg1,Nxd4,exd4,Qf4,Qe2', 'Qxd4+,Qe3,Qxe3#', 'https://lichess.org/training/hlbL1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hlCMj', 'Rapid', 'Mahakaal0211', 1776, 'pvg19', 1788, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nf3,Bc5,Nc3,Ng4,Bc4', 'Nxf2,Qe2,Nxh1', 'https://lichess.org/training/hlCMj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hld4S', 'Rapid', 'CM JLEnamorado', 1992, 'shaarumathi1994', 1877, 'c4,e6,Nf3,d5,e3,Nf6,b3,c5,Bb2,Nc6,d4,cxd4,exd4,Bb4+,Nbd2,O-O,Bd3,dxc4,Bxc4,Ne4,O-O,Nxd2,Nxd2,Nxd4,Ne4,Nf5,Qg4,Kh8,Rad1,Qh4', 'Bxg7+,Nxg7,Qxh4', 'https://lichess.org/training/hld4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hldG8', 'Rapid', 'mindflayer', 1695, 'gramoz', 1689, 'd4,b6,c4,Bb7,Nc3,e6,e4,Bb4,f3,Bxc3+,bxc3,Nf6,Ba3,d6,e5,dxe5,dxe5,Qxd1+,Rxd1,Nh5,Bd3,Nf4,Ne2,Nxg2+,Kf2,Nh4,Nd4,c5,Nb5,Na6', 'Nd6+,Ke7,Nxb7', 'https://lichess.org/training/hldG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hldlG', 'Rapid', 'N_Shevchenko', 1732, 'straydog', 1682, 'e4,c5,c4,e6,Nc3,Nc6,Nf3,Nf6,d4,d5,cxd5,exd5,exd5,Nxd5,dxc5,Nxc3,Qxd8+,Nxd8,bxc3,Bxc5,Bb5+,Bd7,Bxd7+,Kxd7,O-O,Nc6,Bf4,Rad8,Rad1+,Kc8,Ne5,Nxe5,Bxe5,f6,Bd4,Bxd4,Rxd4,Rxd4,cxd4,Rd8,Rc1+,Kb8,Rd1,Rd5,g3,Kc7,Rc1+,Kb6,Rd1,a6,Kg2,Ka5,Kf3,b5,Ke4,Rd7,d5,Kb6,Kf5,a5,Ke6,Kc7,d6+,Kd8,Rd5,Rb7,f4,Ke8,d7+,Kd8,a3,Rb6+,Kf7,b4,Rxa5', 'b3,Ra8+,Kxd7', 'https://lichess.org/training/hldlG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hlfmc', 'Classical', 'Valera1954', 1808, 'mineriva', 2033, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,O-O,b4,Be7,a4,d5,exd5,Nxd5,Qb3,Nf4,Bxf4,exf4,O-O,Bg4,Nbd2,Bf6,d4,Ne7,h3,Bf5,Rfe1,Ng6,Re2,Qd7,Rae1,Rae8,Rxe8,Rxe8,Rxe8+,Qxe8,Ne5,Nxe5,dxe5,Bxe5,Nf3,Bd6,Kf1,h6,Nd4,Bg6,Nf3,Qe4,Bd5,Qd3+,Kg1,b6,Nh4,Qb1+,Kh2,Qxb3,Bxb3,Bd3,Bd5,Kf8,Nf3,Ke7,Nd4,a6,Nc6+,Kf6,g4,fxg3+,fxg3,g5,Kg2,h5,Kf3,Kg6,Nd8,f5,Bf7+,Kh6,Bd5,g4+,hxg4,hxg4+,Kf2,Kg6,Ne6,Be5,Nf4+,Bxf4,gxf4,Kf6,Ke3,Bc2,Bc6,Ke7,a5,bxa5,bxa5,Kd6,Bb7,Kc5,Bxa6,c6,Bf1,Be4,Kf2,Kd6,Kg3,c5,Kh4,Kc6,Be2,Kd5,Kg3,c4,Kf2,Kc5,Ke3,Bd5,Bf1,Bb7,Kf2,Bf3,Ke3,Bd5,Be2,Bc6,Kf2,Bb5,Ke3,Ba6,Bf1,Bb5,Bg2,Ba6,Ba8,Kb5,Kd4,Kxa5,Bd5,Kb6,Be6,g3,Ke3,Bb7,Bxf5,Kc5,Bh3,Bd5,Bg4,Kb5,Bf3', 'g2,Bxg2,Bxg2', 'https://lichess.org/training/Hlfmc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HLfNN', 'Rapid', 'profeblanco', 1613, 'forradalmi', 1659, 'e4,c5,f4,d5,e5,Nc6,Nf3,f6,d3,Qc7,Nc3,e6,Nb5,Qa5+,Nc3,d4,Bd2,dxc3,Bxc3,Qc7,Be2,b5,a3,a5,O-O,Bb7,Bd2,fxe5,fxe5,Nxe5,Bf4,Bd6,Nxe5,Bxe5,Bh5+,g6,Bxe5,Qxe5,Bf3,Bxf3,Qxf3,O-O-O,Qc6+,Qc7,Qxb5,Ne7,Rf7,Rdf8,Raf1,Rxf7,Rxf7,Qd6,Qxa5,Re8,Qa8+,Kd7,Qf3,Kd8,Rxh7,Qd4+,Kh1,Qxb2,Qa8+,Kd7,Qa7+,Kd6,h4,Qc1+,Kh2,Qxc2,Qb6+,Ke5,Qc7+,Kf6,Qf4+,Nf5,Rd7,Qe2,a4,Qe5', 'Rf7+,Kxf7,Qxe5', 'https://lichess.org/training/HLfNN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hLG9z', 'Rapid', 'MERCEDES131', 1924, 'Anthima', 1921, 'e4,c6,d4,d5,f3,dxe4,fxe4,Nf6,e5,Nd5,Nf3,Bg4,c3,e6,Be2,Bxf3,Bxf3,Nd7,O-O,Be7,Bxd5,cxd5,Qf3,O-O,Be3,f6,Qg3,fxe5,dxe5,Rxf1+,Kxf1,Qc7,Bd4,Rf8+,Ke2,Qc4+,Qd3,Qxd3+,Kxd3,Rf1,Ke2,Rc1,Kd2,Bg5+,Ke2,Nb6,b3,Rc2+,Kf3,Rc1,g3,Rd1,h4,Bd2,Ke2,Bxc3,Kxd1', 'Bxd4,Nc3,Bxc3', 'https://lichess.org/training/hLG9z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hLgqm', 'Blitz', 'Mirron', 2029, 'calamitychess', 2004, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,Bf6,Nc3,Bg7,Be2,d6,O-O,Bd7,a3,a5,b3,Nf6,f3,O-O,Qd2,Nxd4,Bxd4,Bc6,b4,Be8,Qb2,Nh5,Nd5,Bc6,Bxg7,Nxg7,Rfd1,Ne6,Bf1,axb4,axb4,Rxa1,Qxa1,Bxd5,Rxd5,Qb6+,Kh1,Qxb4,Rb5,Qd2,Rxb7,Nf4,Rxe7,Rb8,Qf6', 'Qxg2+,Bxg2,Rb1+,Bf1,Rxf1#', 'https://lichess.org/training/hLgqm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HlhhH', 'Rapid', 'Besproz', 1710, 'Akkuratnova', 1748, 'd4,Nf6,c4,e5,Bg5,exd4,Qxd4,Nc6,Bxf6,Qxf6,Qxf6,gxf6,Nf3,Nb4,Na3,Bg7,g3,f5,Rb1,d6,Bg2,Nxa2,Nc2,a5,O-O,Nb4,Nfd4,c5,Nb5,Kd7,Nxb4,cxb4,Bh3,Kc6,Rbd1,Rd8,Rd5,Bxb2,Rfd1,a4,Rxd6+,Kc5,Rxd8,a3,R1d5+,Kxc4,Bxf5', 'Bxf5,Rxa8,Kxd5', 'https://lichess.org/training/HlhhH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HlIC4', 'Blitz', 'aysoko', 2514, 'DrunkMonkeyBusiness', 2361, 'e4,Nc6,Nf3,d6,h3,Nf6,Nc3,g6,d4,Bg7,Be3,O-O,Qd2,e5,dxe5,Nxe5,Nxe5,dxe5,O-O-O,Qxd2+,Rxd2,c6,a4,Be6,a5,a6,Be2,Rfd8,Rhd1,Rxd2,Rxd2,Nd7,Na4,f6,Rd6,Re8,Nb6,Nxb6,axb6,Bf8,Rd1,Kf7,b3,Be7,Kb2,Rd8,Rxd8,Bxd8,Bc5,Ke8,Ka3,Bc8,Bc4,Be7,Bxe7,Kxe7,Kb4,Kd6,Bg8,h6,Bh7,g5,g4,Be6,c4,c5+,Ka5,Ke7,Bg6,Kd7,Bh5,Ke7,b4,Kd6,Bg6,Bxc4,Bf5,Bd3,bxc5+,Kxc5,f3,Bb5,Be6,Bc6,Bf7,Kd4,Kb4,Ke3', 'Bd5,Bxd5,exd5,Kxf3,d6', 'https://lichess.org/training/HlIC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hlioh', 'Rapid', 'darionew', 2016, 'Pani1365', 1625, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Bg5,O-O,Qd2,e5,Rd1,Nc6,dxe5,dxe5,Qxd8,Rxd8,Rxd8+,Nxd8,Bxf6,Bxf6,Nd5,Bg7,Nxc7,Rb8,Bc4,Bg4,Nb5,a6,Nd6,b5,Bd5,Rb6,Nc8,Rb8,Ne7+,Kf8,Nc6,Nxc6,Bxc6,Rc8,Bb7,Rxc2,O-O,a5,Rb1,b4,Bd5,f5,a3,fxe4,Bxe4,Re2,Bc6,Bf5,Re1,Rxb2,axb4,axb4,h3,e4,Ng5,h6,Nxe4,Rc2,Bd5,Bxe4,Bxe4,Rd2,Bxg6,Bc3,Re8+,Kg7,Be4,b3,Rb8', 'Rd1+,Kh2,Be5+,g3,Bxb8', 'https://lichess.org/training/hlioh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HLJAM', 'Classical', 'NHorde', 1674, 'BewaretheCat', 1655, 'c4,Nf6,g3,e6,Bg2,Nc6,Nc3,Bb4,e3,b6,Nge2,Bb7,O-O,d5,cxd5,exd5,d4,O-O,a3,Bd6,Nxd5,Nxd5,Bxd5,Bxg3,Bxc6,Bxh2+,Kxh2,Qh4+,Kg1,Bxc6,Ng3,Qh3,e4,f5,d5,Bb7,Nxf5,Ba6,Re1,Rf6,Re3,Rg6+,Rg3,Rxg3+,Nxg3,Rf8,Be3,Rf6,Qh5,Qd7,Rc1,g6,Qh6,Rf3,Kg2,Qg4,Rxc7,Rxg3+,fxg3,Qxe4+,Kh3', 'Bf1+,Kh2,Qg2#', 'https://lichess.org/training/HLJAM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HlkXN', 'Rapid', 'gennady_geenovich', 1659, 'Aliyar2013', 1686, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Nxe4,Qe2,Nc5,Qc4,Na5,Qc3,Nc6,Bf4,d6,Bb5,Ne6,Bg3,Bd7,O-O,Be7,exd6,Bxd6,Nbd2,Bxg3,fxg3,O-O,Rad1,Qe7,Ne4,Rad8,Rfe1,h6,Nc5', 'Qxc5+,Qxc5,Nxc5', 'https://lichess.org/training/HlkXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hLkYZ', 'Rapid', 'Rampathak', 1561, 'akauso', 1595, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d5,exd5,cxd5,d4,e6,Bf4,Nf6,c3,Be7,Nbd2,O-O,Nb3,c4,Nbd2,a5,Ne5,Bb7,h3,a4,Ndf3,a3,bxa3,Bxa3,Rb1,Qe7,Qc2,h6,Rb6,Rfc8,Rfb1,Ra7,Nd2,Ba8,g4,Nd7,Nxd7,Qxd7,Rb8,Bc6', 'Rxc8+,Qxc8,Rb8,Qxb8,Bxb8', 'https://lichess.org/training/hLkYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HLp9v', 'Classical', 'LukaBegov', 1903, 'PAssw0RDS', 2118, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,exd4,Qxd4,Qxd4,Nxd4,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nxe4,O-O,Nxc3,bxc3,O-O,Rfe1,c5,Nf3,b6,Re7,Ra7,Ne5,Rb7,Rd1,f6,Nc6,Bf5,Re2,Kf7,Re7+,Kg8,Re2,Bg6,Ne7+,Kf7,Nxg6,hxg6', 'Rd7+,Kg8,Ree7,Kh7,Rxg7+', 'https://lichess.org/training/HLp9v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hlQ9I', 'Classical', 'rahulbazigar2006', 1843, 'islam_sso', 1829, 'e4,e5,f4,Nc6,Nf3,Nf6,Nc3,d6,fxe5,dxe5,Bb5,Bb4,O-O,Bd7,Bxc6,Bxc6,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/hlQ9I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hLQNJ', 'Classical', 'WellBeBack', 1998, 'Subasishchess', 2064, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Be3,Nbd7,Qd2,b5,a3,Bb7,f3,e5,Nf5,g6,Nxd6+,Bxd6,Qxd6,Rc8,O-O-O,Rc6,Qd2,O-O,Bg5,Qc7,Nxb5,axb5,Bxb5,Rc5,Bxd7,Nxd7,Qxd7,Rxc2+,Kb1,Qxd7,Rxd7,Rxg2,Bh6,Rb8,Rhd1,f5,Rg7+,Kh8,Rdd7,Bxe4+,fxe4,Rgxb2+,Kc1,Rb1+,Kd2,R1b2+,Ke3', 'R8b3+,Rd3,f4+,Kf3,Rxd3+', 'https://lichess.org/training/hLQNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HLrto', 'Blitz', 'Akiger', 1547, 'HRHIII', 1546, 'e4,e5,f4,exf4,Nf3,g6,d4,Bg7,e5,Nc6,c3,Nge7,Bxf4,Nd5,Bg3,O-O,Qd3,b6,Nbd2,a5,h4,Ba6,Qc2,Ne3,Qe4,Nxf1,Rxf1,Bb7,Qc2,Rb8,O-O-O,Ne7,Rh1,Nf5,Bf2,Bh6,h5,Ne3,Bxe3,Bxe3,hxg6,fxg6,Rh3,Bf4,Rdh1,Rf7,Kb1,Qe7,Nh4,Bxd2,Nxg6,Qg5,Rh5,Qxg6,Qxg6+,hxg6', 'Rh8+,Kg7,R1h7#', 'https://lichess.org/training/HLrto');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hlt2x', 'Rapid', 'sepehr36', 1814, 'Ben_Peach', 1904, 'd4,Nf6,Nd2,d5,Ngf3,c5,dxc5,e6,b4,a5,c3,b6,cxb6,axb4,Bb2,Qxb6,cxb4,Bxb4,Bxf6,gxf6,e3,Ba6,Bxa6,Qxa6,Rb1,Nc6,Nd4,Bxd2+,Qxd2,Nxd4,Qxd4,Qa5+,Ke2,Qxa2+,Kf3,e5,Qb6,Qa6', 'Qxa6,Rxa6,Rb8+,Kd7,Rxh8', 'https://lichess.org/training/hlt2x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HLtx8', 'Blitz', 'lama12-2', 1835, 'gouthamramesh', 1839, 'e4,c5,Ne2,e5,d3,Nc6,c3,d6,Ng3,Nf6,Be2,Be6,O-O,Be7,Nd2,O-O,f4,Ne8,f5,Bd7,Nf3,f6,a3,a5,Nh5,b5,Qb3+,Kh8,Qxb5,Nd4,Qc4,Nxe2+,Kh1,Nxc1,Raxc1,Nc7,Nh4,Be8,Ng3,Bf7,Qa4,Be8,Qc2,Na6,Qe2,Qb6,Rc2,a4,Qg4,Bd8,Rf3,Qb3,Rcf2,c4,Nh5,Bxh5,Qxh5,Kg8,Rf1,cxd3,Ng6,Qf7', 'Qxh7+,Kxh7,Rh3+,Kg8,Rh8#', 'https://lichess.org/training/HLtx8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hLUdX', 'Rapid', 'mica111', 1961, 'JaviiPH64', 2034, 'e4,c5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,Nc3,Nf6,h3,e5,d3,Bb7,O-O,Be7,Nh2,d5,f4,exf4,Rxf4,Bd6,Rf3,d4,Ne2,O-O,Bf4,Qc7,Qd2,Bxf4,Nxf4,Rae8,Re1,Bc8,Qe2,c4,e5,cxd3,Nxd3,Nd5,Nf1,c5,Nf4,Nxf4,Rxf4,f6,Re4,Bb7,Qc4+,Kh8,R4e2,fxe5,c3,Qc6,cxd4,exd4,Qc2,Rxe2,Qxe2,Ba6,Qe7,Rg8,Re6,Qb5,Ng3,d3,Rd6,Qe8,Qg5,Qe1+,Kh2,Bc4,Nh5,Qe8,Nf4,Qb8', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/hLUdX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HLUEF', 'Classical', 'Jonah_St', 1765, 'Felwix', 1768, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Nc6,Bc4,Nf6,O-O,Be7,Qe2,d6,Rd1,Qa5,Bd2,Qh5,Nb5,O-O,Be3,a6,Nxd6,b5,Nxc8,Raxc8,Bd3,Nb4,e5,Nfd5,Be4,Rc4,Bd2,Nc2,Bxd5,exd5,Rac1,Nd4', 'Nxd4,Qxe2,Nxe2', 'https://lichess.org/training/HLUEF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HLuPx', 'Rapid', 'agadou', 2187, 'save60', 2146, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Ne2,Bb7,a3,Be7,Ng3,h5,Qc2,h4,Nge4,Nxe4,Nxe4,f5,Nc3,h3,f3,Bf6,Bd2,c5,dxc5,bxc5,O-O-O,a6,e4,Nc6,Be3,Nd4,Bxd4,cxd4,exf5,dxc3,fxe6,cxb2+,Kb1,d6', 'Qg6+,Kf8,Qf7#', 'https://lichess.org/training/HLuPx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HLUTm', 'Rapid', 'JaMEson_Statham', 1653, 'Sezer12345', 1667, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,d3,Bg4,Bg5', 'Bxf3,Qxf3,Qxg5', 'https://lichess.org/training/HLUTm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hlv8V', 'Blitz', 'Gend0lf', 1956, 'ArchibaldCerveza29', 2248, 'e4,e5,f4,exf4,Nf3,Ne7,Bc4,d5,exd5,Nxd5,O-O,Be6,Bb3,Be7,Nc3,O-O,Nxd5,Bxd5,Bxd5,Qxd5,d3,Bd6,Bd2,Nd7,Bc3,Qh5,h3,Rae8,Qd2,Re7,Rae1,Rfe8,Rxe7,Rxe7,Re1,Rxe1+,Qxe1,Kf8,Bb4,Bxb4,Qxb4+,Qc5+,Qxc5+,Nxc5,Kf2,f6,Nd4,c6,h4,Ke7,Kf3,g5,hxg5,fxg5,Kg4,Kf6,b4,Nd7,Kf3,Ke5,Nb3,h5,c3,g4+,Ke2,h4,Nd2,Nf6,a4,b6,Nb3,Nd5,d4+,Kf5,Kd3,h3,gxh3,gxh3,b5,h2,bxc6,h1=Q,Kc4,Qf1+,Kxd5,Qf3+,Kd6,Qxc3,c7,f3,Nc5,bxc5,c8=Q+,Ke4,Qg4+,Ke3,Qe6+,Kd3,Qf5+,Kd2,d5,Qd3,Qf4+,Ke2,Qe5+,Qe3,Qe6,f2,Qg4+,Ke1,Qe6,Qxe6+,dxe6,f1=Q,Ke7,Qd3,Kf6,Qe4,Ke7,c4,Kf6,c3,e7,c2,Kf7,c1=Q,e8=Q,Qc7+,Kf8,Qxe8+,Kxe8,Qd7+,Kxd7,Ke2,Kc6,Kd2,Kb5,Kc3,a5,Kd3', 'Ka6,Kc4,Kxa7,Kb5,a6,Kc6,Kb8', 'https://lichess.org/training/hlv8V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hLvdJ', 'Rapid', 'SANEX', 1884, 'LunarDune', 2002, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,cxb2,Bxb2,e6,Nf3,a6,h4,b5,Bb3,Bb7,Qd3,Nf6,Ng5,h6,e5,Ng4,Ne4,Bb4+,Nbd2,Bxd2+,Kxd2,O-O,Bc2,Nc6,Ba3,Qa5+,Ke2,Ngxe5', 'Nf6+,gxf6,Qh7#', 'https://lichess.org/training/hLvdJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HlWMJ', 'Blitz', 'VSCoimbra', 1631, 'gerva02', 1654, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be3,Bd7,b3,cxd4,cxd4,Qb4+,Nbd2,f5,exf6,Nxf6,Bd3,Bd6,O-O,O-O,Ng5,h6,Nh3,Ng4,Nf3,Nxe3,fxe3,Bc7,Qc2,Qd6,Bh7+,Kh8,Nf4,Be8,g3,Bb6,Nh4,Nxd4,Nfg6+,Bxg6', 'Nxg6+,Kxh7,Nxf8+,Kg8,Qh7#', 'https://lichess.org/training/HlWMJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HlWqm', 'Blitz', 'FM ChainsOfFantasia', 2609, 'FM Ciencia_3214', 2593, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,e6,e3,Nbd7,Qc2,Bd6,Bd3,dxc4,Bxc4,b5,Be2,Bb7,O-O,O-O,e4,e5,dxe5,Nxe5,Nd4,Re8,Nf5,Bf8,Bg5,Re6,Rad1,Qe8,h3,h6,Bh4,Ng6,Bg3,b4,Na4,Nxe4,Bc4,Rf6,Rfe1,c5,Nd6,Bxd6,Rxd6,Nxd6,Rxe8+,Rxe8,Bxd6,Rxd6,Nxc5,Ba8,Qb3,Ne5,Qxb4,Rd1+,Kh2,Ng6,Qb3,Ree1,Bxf7+,Kh7,Qc2,Rd6,Qf5,Rf6,Bxg6+,Rxg6,Nd7', 'Be4,Nf8+,Kg8,Qxg6,Bxg6', 'https://lichess.org/training/HlWqm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HLXdP', 'Classical', 'Darkray2311', 1656, 'tmkpr', 1645, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,d3,Na5,Nxe5,d6,Nf3,Nxc4,dxc4,Re8,Re1,Be6,b3,c6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Bxf2+,Kxf2,Ng4+,Qxg4,Qb6+,Be3+,Bxg4,Bxb6,axb6,Re3,Bh5,Rh3,Bg6,Rg3,Kf8,Kf3,Ra5,Rd1,Rae5,Rd4,Bh5+,Kf4,R8e6,Rg5,c5,Rxd6,Rxg5,Rxe6', 'Rg4+,Kf5,fxe6+', 'https://lichess.org/training/HLXdP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hlXtq', 'Rapid', 'Zheidari', 1612, 'rezkytairas', 1620, 'e4,c5,Bc4,e6,d4,d5,exd5,exd5,Bd3,cxd4,Nf3,Nc6,O-O,Nf6,Re1+,Be7,Bb5,O-O,Bxc6,bxc6,Nxd4,c5', 'Nc6,Qd6,Nxe7+', 'https://lichess.org/training/hlXtq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HlZbb', 'Rapid', 'Alexborg', 1791, 'larote', 1742, 'e4,c5,Nf3,d6,b3,Nc6,Bb2,e6,Bb5,Bd7,O-O,Nf6,Bxc6,Bxc6,e5,dxe5,Nxe5,Rc8,Nxc6,Rxc6,Qf3,Be7,d3,O-O,Nd2,Qd5,c4,Qxf3,Nxf3,Nd7,Rad1,Rd8,d4,Bf6,d5,exd5,cxd5,Rd6,Bxf6,Nxf6,Rd2,Rxd5,Rfd1,b6,Rxd5,Rxd5,Rxd5,Nxd5,Ne5,f6,Nc6,a6,Nb8,a5,Kf1,Kf7,Ke2,Ke6,Kd3,Nf4+,Kc4,Nxg2,Kb5,Nf4,Kxb6,Kd5,Kxa5,Nd3,Kb5,Nxf2,a4,Ne4,a5,Nc3+', 'Kb6,c4,bxc4+,Kxc4,a6', 'https://lichess.org/training/HlZbb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HLZIs', 'Classical', 'sergey1971', 1779, 'MaX_i_MaL', 2186, 'd4,e6,g3,f5,Bg2,Nf6,Nf3,c6,O-O,d5,b3,Bd6,Bb2,Nbd7,Nbd2,Nf8,Rc1,Ng6,c4,Qe7,c5,Bb8,a4,Bd7,b4,a6,Ne5,Nxe5,dxe5,Ne4,f3,Ng5,Nb3,Nf7,f4,g5,e3,g4,Nd4,h5,b5,axb5,axb5,h4,bxc6,bxc6,Qb3,Nd8,Ra1,Rxa1,Rxa1,hxg3', 'Qxb8,gxh2+,Kh1', 'https://lichess.org/training/HLZIs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hM0dP', 'Rapid', 'kijek', 1951, 'ali6161', 1962, 'e4,c5,Nf3,d6,Nc3,Nf6,Be2,g6,d3,Bg7,Bd2,O-O,O-O,a6,Qc1,Nc6,Bh6,Be6,Bxg7,Kxg7,Rd1,b5,a3,Qb6,Qe3,Nd4,Qd2,Nc6,Rab1,Nd4,e5,dxe5,Nxe5,Nxe2+,Qxe2,Rfd8,Ne4,Nxe4,dxe4,a5,c4,b4,axb4,axb4,b3,Rxd1+,Rxd1,Ra3,Qb2,f6,Nd7,Bxd7,Rxd7,Kf7,f3,Qa6,Rd1,Ra2,Qb1,Qa3,Qd3,Qa7,Qd5+,Kf8', 'Qd8+,Kf7,Rd7,Qxd7,Qxd7', 'https://lichess.org/training/hM0dP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HM5mo', 'Rapid', 'sherlock4', 1685, 'salvador333', 1657, 'e4,e5,f4,exf4,Nf3,Bc5,Bc4,d6,d4,Bb6,Bxf4,Ne7,O-O,O-O,Qd3,d5,exd5,Nxd5,Ng5,f5,Nc3,c6,Qh3,h6,Nf3,Rf6,Be5,Rg6,Qh5,Qe8,b4', 'Rxg2+,Kxg2,Qxh5', 'https://lichess.org/training/HM5mo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hm5YH', 'Rapid', 'martini_10', 2014, 'Kamal6517', 1769, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,Bf5,Nf3,e6,Be2,Nc6,O-O,Be7,Nc3,Nb4,a3,Nc2,Ra2,dxe5,fxe5,c5,d5,h6,Bd3,Bxd3,Qxd3,Nd4,Nxd4,cxd4,Qxd4,exd5,Nxd5,Rc8,b3', 'Bc5,Qxc5,Rxc5', 'https://lichess.org/training/hm5YH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hm62w', 'Classical', 'jwgreg', 1772, 'Banderawin', 1626, 'f4,d5,Nf3,e6,d3,Bb4+,Bd2,Bc5,Nc3,c6,e4,d4,Na4,Be7,Ne5,b5,Nc3,dxc3,Bxc3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/Hm62w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hM6DI', 'Blitz', 'hamidchess333', 1525, 'TubeScienceLab', 1706, 'e4,e6,d4,d5,Nc3,Bb4,e5,Nh6,Bxh6,gxh6,Qd2,Qg5,Nf3,Qxd2+,Nxd2,Bxc3,bxc3,Rg8,g3,b6,Bd3,Rg7,O-O-O,Ba6,Rdf1,Bxd3,cxd3,c5,Kb2,Nc6,dxc5,bxc5,Nb3,Rb8,Kc2,c4,dxc4,dxc4,Nd4,Nxe5,f4,Ng4,Re1,Kd7,f5,exf5,Nxf5,Rg5,Re7+,Kc6,Rxf7', 'Rxf5,Rxf5,Ne3+,Kc1,Nxf5', 'https://lichess.org/training/hM6DI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hm92Z', 'Rapid', 'Bekhkermot80', 1764, 'di1991', 1709, 'e4,c6,f4,d5,exd5,cxd5,d4,Nf6,Nf3,Nc6,Nc3,Bg4,Be2,e6,O-O,Qb6,Na4,Qb4,c3,Qa5,Be3,Be7,Qd2,O-O,Ne5,Bxe2,Qxe2,Qxa4,Nxc6,bxc6,f5,Ne4,Qg4,exf5,Qxf5,Bf6,Rf4,Rab8,b3,Qa6,Rg4,Kh8,Rf1,Qc8,Qh5,Qe6,Rf3,Be7,Rh3,Nf6,Qh4,h6,Bxh6,Qxg4', 'Bxg7+,Kxg7,Qh6+,Kg8,Qh8#', 'https://lichess.org/training/hm92Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hm9uL', 'Rapid', 'Gasto0', 1697, 'Relish123', 1719, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,Bxc3+,bxc3,O-O,e3,b6,Bd3,Bb7,O-O,d5,Re1,Nbd7,a4,e5,dxe5,Ng4,Qc2,Ndxe5,Nxe5,Nxe5,Bxh7+,Kh8,cxd5,Bxd5,Be4,g6,Rd1', 'Bxe4,Rxd8,Bxc2', 'https://lichess.org/training/hm9uL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hmAGf', 'Classical', 'MRTZMRHGL', 1714, 'daniel_c137', 1820, 'd4,e6,c4,c5,a3,cxd4,Qxd4,Nc6,Qd1,g6,Nf3,Bg7,Nc3,Bxc3+,bxc3,Nf6,Bf4,O-O,h3,Ne4,Qc2,Nd6,e3,Nf5,e4,Ng7,Bd3,Qf6', 'Bg5,Qxg5,Nxg5', 'https://lichess.org/training/hmAGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hmaUk', 'Rapid', 'mathieucarokann', 1876, 'HarmlessChessNub', 1891, 'd4,d5,Nc3,Nf6,Nf3,c6,g3,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Be7,e4,dxe4,Nxe4,O-O,Bg5,Nxe4,Bxe7,Qxe7,Qxe4,Qb4+,Ke2,Nd7,Rab1,Nc5,Qe3,Qc4+,Kd1,Rad8,c3,Qxa2,Nd2,Nb3,Kc2,Nxd2,Qxd2,Rd5', 'Ra1,Qxa1,Rxa1', 'https://lichess.org/training/hmaUk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HMAWI', 'Rapid', 'YuryLu', 2406, 'To4stEd', 2255, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,e6,Bxc6,bxc6,d3,d5,O-O,Ne7,Qe1,O-O,Bd2,Ba6,Na4,c4,Nc5,Qb6,Be3,d4,Nxd4,Qxc5,Nf5,Qb5,Nxe7+,Kh8,f5,exf5,exf5,Bf6,Bd2,Rae8,Bc3,Qc5+,Kh1,Bxc3,Qxc3+,f6,fxg6,Qxe7,gxh7,cxd3,cxd3,c5,Rae1,Qd6,Rxe8,Rxe8,h3,Kg7,b3,Bb7,Qc4,Qc6,Qg4+,Kh8,Qg6,Rf8,Re1,Qd7,Re2,Qxh7', 'Qxh7+,Kxh7,Re7+,Kh6,Rxb7', 'https://lichess.org/training/HMAWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hmcjl', 'Rapid', 'Luisgu', 1784, 'PeeonDama', 2041, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bd7,a3,Nf6,d3,h6,O-O,Be7,b4,a6,Ba4,O-O,Bb2,Nd4,Nxd4', 'exd4,Ne2,Bxa4', 'https://lichess.org/training/hmcjl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HMG5i', 'Rapid', 'saber4030', 1978, 'piur', 1934, 'e4,e5,Nf3,d6,Bc4,c6,h3,Be7,d4,Nd7,O-O,Ngf6,Re1,Qc7,Nc3,h6,d5,Nf8,Bb3,Ng6,dxc6,bxc6,Ba4,O-O,Be3,Be6,Qd2,d5,exd5,cxd5,Nb5,Qb8,Qe2,d4,Bd2,a6,Na3,Bd6,Bb3,Nd5,Nc4,Ndf4,Bxf4,Nxf4,Qe4,Bd5,Qf5,Be6,Qe4,f5,Qc6,Rd8,Nxd6,Bxb3,axb3,Rxd6,Qc4+,Kh8,Nxe5,Qf8,Nf7+,Kh7,Nxd6,Qxd6,Red1,Qg6,Qf1,Nxh3+,Kh2,Nf4,Rxd4', 'Qh5+,Kg1,Ne2+,Qxe2,Qxe2', 'https://lichess.org/training/HMG5i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hMgMy', 'Blitz', 'Jusul', 1990, 'Amiiir_123', 1799, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,Bg4,Nf3,Nbd7,Be2,Nb6,O-O,Qd7,Qc2,O-O-O,b4,a6,a4,Bxf3,Rxf3,h5,a5,Na8,b5,axb5,cxb5,b6,a6,h4,h3,e5,dxe5,dxe5,fxe5,Nh5,Re3,Bxe5,Bg4,Qxg4,hxg4,Ng3,Ra2,Bd4,Ne2,Bxe3+,Bxe3,Rd7,Qc6', 'Rd1+,Kf2,Rf1#', 'https://lichess.org/training/hMgMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hMHvw', 'Blitz', 'henway', 1663, 'GiusepeUngaretti', 1674, 'e4,e5,Nc3,Bc5,f4,Nc6,Nf3,exf4,d4,Bb4,Bxf4,Nf6,Bd3,Bxc3+,bxc3,d5,e5,Ne4,Bxe4,dxe4,Ng5,Bf5,Qe2,h6,Nxe4,Nxd4,cxd4,Qxd4,Qb5+,c6,Nd6+,Qxd6,Qxb7,Qb8,Qxc6+,Bd7,Qe4,O-O,e6,Bc6,exf7+,Rxf7,Qxc6,Rxf4,O-O-O,Rb4,Kd2,Kh7,Rhe1,Rd4+,Ke3,Qe5+,Kf2,Rf8+,Kg1,Rxd1,Rxd1,Qe2,Qd5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/hMHvw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hMipb', 'Classical', 'fredhont', 1871, 'adamliyou', 1859, 'e4,e5,d4,d6,dxe5,Nc6,exd6,Qxd6,Qxd6,Bxd6,Nf3,h6,Bc4,Nf6,Nc3,Bg4,Be2,Bb4,e5,Bxc3+,bxc3,Nxe5', 'Nxe5,Bxe2,Kxe2', 'https://lichess.org/training/hMipb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hmj70', 'Classical', 'viiiiiid', 1774, 'isp', 1606, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,d3,h6,Na4,Bd4,c3,Bb6,Nxb6,axb6,a3,Nf6,h3,Nd7,Be3,Nc5,b4,Ne6,O-O,Qf6,d4,Nf4,dxe5,Nxe5,Nxe5,Qxe5,Bd4,Qxe4', 'Re1,Qxe1+,Qxe1+', 'https://lichess.org/training/Hmj70');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hMkEQ', 'Rapid', 'bolillon', 1670, 'stuntmancb', 1615, 'd4,e6,e4,d5,Nc3,Bb4,e5,c5,a3,Ba5,dxc5,Ne7,b4,Bc7,Nf3,Nf5,Nb5,O-O,Nxc7,Qxc7,Bd3,b6,Bxf5,exf5,Be3,Ba6,Qxd5,Nd7,cxb6', 'Qc3+,Qd2,Qxa1+', 'https://lichess.org/training/hMkEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HMKjU', 'Bullet', 'ngocbao1805', 1879, 'robotcop', 1781, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f3,Be7,Qd2,Nc6,O-O-O,O-O,Kb1,Qc7,g4,Rac8,g5,Nd7,h4,b5,h5,b4,Nd5,Bxd5,exd5,Nd4,Nxd4,exd4,Bxd4,Ne5,Be2,a5,Rc1,Nc4,Bxc4,Qxc4,g6,fxg6,hxg6,h6,Be3,Rxf3,Bxh6,Bf6,Bg5,Bxg5,Qxg5,Rf2,Rh4,Qe2,Qh5', 'Qxc2+,Rxc2,Rf1+,Qd1,Rxd1+,Rc1,Rcxc1#', 'https://lichess.org/training/HMKjU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HmkNb', 'Classical', 'Echecs1964', 1902, 'alexanderAlekhine2', 1979, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bxf2+,Kxf2,Qh4+,g3,Qxe4,Qe2,Nf6,Qxe4+,Nxe4+,Ke2,d5,Bf4,Bg4+,Ke1,O-O-O,Be2,Bxe2,Kxe2,Rhe8,Kf3,g5,Be3,Ne5+,Kg2,Ng4,Bg1,f5,N1d2', 'Nxd2,Nxd2,Re2+,Kf1,Rxd2', 'https://lichess.org/training/HmkNb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HmLSC', 'Rapid', 'piur', 1730, 'Elsabahy', 1857, 'e4,c5,Nf3,Nc6,d3,d6,c3,e5,Be2,Nf6,Be3,Be7,h3,O-O,Nbd2,b5,Nf1,d5,Ng3,d4,Bd2,Rb8,O-O,b4,cxb4,cxb4,Rc1,Qb6,Nf5,Bxf5,exf5,e4,dxe4,Nxe4,Be1,Ng3,fxg3,d3+,Bf2,dxe2,Qxe2,Qb7,Rxc6,Qxc6,Qxe7,Qc2,Qe5,Rfe8,Ne1', 'Qxf2+,Rxf2,Rxe5', 'https://lichess.org/training/HmLSC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hMMlx', 'Classical', 'gabrahmad', 2031, 'G4G5EZ', 2031, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,Bg5,a6,Bb3,h6,Bh4,g5,Bg3,O-O,Nbd2,Bd7,Nf1,Nh5,Ne3,Nf4,Bxf4,exf4,Nd5,g4,Nd2,f3,gxf3,Ne5,d4,c6,Ne3,Nd3+,Ke2,Nf4+,Ke1,Nd3+,Ke2,Nf4+,Kf1,Qh4,Rg1,Qh3+,Ng2,Bb6,fxg4,Kh7,Qf3,Bxg4,Qxf4', 'Qd3+,Ke1,Qe2#', 'https://lichess.org/training/hMMlx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hmNjO', 'Bullet', 'alexsander1', 1850, 'alvaro197', 1840, 'd4,d5,c4,e6,Nc3,c6,Bf4,Bd6,Bxd6,Qxd6,c5,Qd8,e3,Nf6,Bd3,Nbd7,Nge2,h6,O-O,g5,b4,e5,f3,exd4,exd4,O-O,Bc2,Re8,Ng3,Nf8,Qd3,Ng6,Rae1,Nf4,Qd2,Be6,Nce2,Nxe2+,Rxe2,a5,a3,axb4,axb4,Ra2,Qd3,b6,Rfe1,bxc5,bxc5,Qa5,Nf5,Ra1,Rxa1', 'Qxa1+,Kf2,Bxf5,Rxe8+,Nxe8', 'https://lichess.org/training/hmNjO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HmOqs', 'Rapid', 'ALKAISAR', 1661, 'Sava1001', 1677, 'e4,Nc6,Bb5,a6,Bxc6,dxc6,Nf3,Bg4,h3,Bh5,Qe2,e5,Qe3,Nf6,Nxe5,Bd6,d4,O-O,Nf3,Nxe4,Qxe4', 'Re8,Qxe8+,Qxe8+', 'https://lichess.org/training/HmOqs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hmQDE', 'Classical', 'Naresh546', 1676, 'bird67', 1690, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bd3,Bg4,O-O,Nxd4,Be2,Nxe2+,Qxe2,e6', 'Qb5+,Qd7,Qxd7+,Kxd7,Ne5+,Ke7,Nxg4', 'https://lichess.org/training/hmQDE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HmqNE', 'Classical', 'Slipa', 1900, 'renecool', 1862, 'e4,c5,Bc4,e5,Nf3,Nc6,d3,Be7,O-O,Nf6,Nc3,d6,Nd5,Nxd5,Bxd5,O-O,Nd2,Bg5,Nc4,Bxc1,Rxc1,Nb4,Ne3,Nxd5,Nxd5,b5,f4,exf4,Rxf4,Be6,Qh5,g6,Nf6+', 'Qxf6,Rxf6,gxh5', 'https://lichess.org/training/HmqNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HMQVs', 'Rapid', 'dr_y', 1873, 'valintin159', 1850, 'e4,c5,f4,Nc6,Nf3,e6,d3,Be7,Be3,Bh4+,Bf2,Bxf2+,Kxf2,d5,e5,Nge7,g4,f5,g5,Ng6,Kg3,h6,h4,hxg5,Nxg5,Qb6,b3,Qb4,Qc1,Bd7,c3,Qb6,h5,Qc7,Qe3,d4,cxd4,cxd4,Qe2,Nge7,Nd2,Nd5,Nc4,b5,Nd6+,Ke7,Nxb5,Qb6,Nd6,Ne3,Qh2,Rh6,Qh4,Kf8,Ngf7,Rh7,Qg5,Be8,Qg6,Rh6,Rc1,Rxg6+,hxg6,Bxf7,gxf7,Ke7,Rh7,Nxf1+,Rxf1,Rf8,Rxg7,Nd8', 'Nc8+,Kd7,Nxb6+', 'https://lichess.org/training/HMQVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hmr8q', 'Rapid', 'jocalux', 2003, 'zechariah_2007-lotfy', 2152, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,Nf6,d3,d5,exd5,exd5,Bb3,Be7,O-O,O-O,h3,a6,a4,h6,Bd2,Be6,Qc1,Re8,Re1,Bf8,Ne5,Nd4,Ne2,Nxb3,cxb3,Qc7,Bf4,Bd6,d4,b6,Ng3,Nd7,Nxd7', 'Bxf4,Nf6+,gxf6', 'https://lichess.org/training/hmr8q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hmRJw', 'Rapid', 'Herinjaka', 1842, 'udav202', 2084, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,e5,Nf5,d5,Bd3,d4,Na2,Bxf5,exf5,e4,Qe2,Qd5,f3,e3,Bxe3,dxe3,Qxe3+,Be7,Nc3,Qc5,Qe2,O-O,O-O-O,Nc6,g4,Nd4,Qg2,h6,h4,Nh7,f4,Bd6,Rhf1,Qc7,Nd5,Qa5,g5,h5,g6,fxg6,fxg6,Nf6,Nxf6+,Rxf6,Bc4+,Kh8,Rxd4,Qc5,Qf3,Rf5,Rd5,Bxf4+,Kb1,Rxd5,Bxd5,Bh6,Qxh5,Rc8,Qf5,b5,a5,b4,h5,Be3,h6,Bxh6,Rh1,Rf8,Rxh6+,gxh6', 'Qe5+,Rf6,Qxf6#', 'https://lichess.org/training/hmRJw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hMuCM', 'Rapid', 'Pustefix', 2373, 'Freshmaker', 2357, 'Nf3,Nf6,c4,g6,b3,Bg7,Bb2,O-O,g3,b6,Bg2,Bb7,O-O,d6,d3,Nbd7,Nc3,e5,Qc2,Nh5,a3,f5,b4,h6,e3,g5,Rad1,f4,exf4,exf4,Ne1,Bxg2,Kxg2,Ne5,f3,g4,Ne4,gxf3+,Nxf3,Ng4,Rde1,Ne3+,Rxe3,fxe3,Bxg7,Nxg7,Qe2,Nf5,h3,d5,cxd5,Qxd5,g4,Nd4,Qxe3,Nxf3,Rxf3,Rae8', 'Nf6+,Rxf6,Qxe8+,Kg7,Qe7+,Rf7,Qxf7+,Qxf7,Rxf7+', 'https://lichess.org/training/hMuCM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hMW9K', 'Rapid', 'Mouclovaine', 1639, 'udamyson', 1709, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,Bb5,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Bd4,Nf6,O-O,c5,e5,Nd7,exd6,cxd4,dxe7,Qb6,Nd5,Qd6,Qf3,Nf6', 'Nxf6+,Bxf6,Qxa8+', 'https://lichess.org/training/hMW9K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hmwLv', 'Rapid', 'satverma123456', 2188, 'BabayanKaro', 2332, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Be3,Nf6,Nc3,Bb4,f3,Qa5,Qd3,Ne5,Qd2,a6,Be2,d5,O-O,Bxc3,bxc3,dxe4,fxe4,Nxe4,Qe1,Qxc3,Bf3,Nxf3+,Rxf3,Qxe1+,Rxe1,Nf6,Bg5,Nd5,Nf5,O-O,Nd6,f6,Bh4,e5,c4,Ne7,c5,Be6,a4,Bd5,Rd3,Bc6,a5,Ng6,Bg3,Rad8,Rb3,Rd7,h4,Rfd8,h5,Ne7,h6,Rxd6,cxd6,Rxd6,hxg7,Kxg7,Bh4,Rd2,Rg3+,Ng6,Rf1,Rd6,Rg4,Kf7,Bg3,Rd2,Be1,Re2,Bc3,Nf4,Rf2,Ke6', 'Rgxf4,Rxf2,Rxf2', 'https://lichess.org/training/hmwLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hMXTA', 'Blitz', 'ablenkung99', 1603, 'astisss', 1539, 'c4,e5,Nc3,Nc6,g3,a6,Bg2,Bc5,e3,d6,Nge2,Bg4,h3,Bh5,O-O,h6,g4,Bg6,d4,exd4,exd4,Ba7,Re1,Nge7,Be3,Qd7,Nf4,Bh7,d5,Bxe3,Rxe3,Ne5,Nh5,f5,Nxg7+,Kf7,Nxf5,Nxf5,gxf5,Bxf5,Ne4,Rhg8,Kh2,Rxg2+,Kxg2,Rg8+,Kh2,Bxh3,Rxh3,Ng4+,Kh1,h5,Qf3+,Ke7,Re1,Kd8,Nf6,Nxf2+,Qxf2', 'Qxh3+,Qh2,Qf3+,Qg2,Qxg2#', 'https://lichess.org/training/hMXTA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hmyBr', 'Classical', 'premy', 1840, 'MChessplayer123', 1897, 'e4,c5,Bc4,d6,Nc3,Nf6,d3,e6,Bg5,Be7,Nf3,O-O,h3,Nc6,a3,Nd7,Bd2,Nde5,O-O,Nxc4,dxc4,e5,b3,f5,Re1,f4,Nd5,Be6,Bc3,g5,Nh2,Qd7,f3,h5,Qe2,Rf7,Kf2,Rg7,Rg1,g4,fxg4,hxg4,hxg4,Bxg4,Nxg4,Rxg4,Rh1,Bh4+', 'Rxh4,Rxh4,Nf6+,Kf7,Nxd7', 'https://lichess.org/training/hmyBr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HMZiO', 'Blitz', 'LeelaNice', 1887, 'nirina', 1863, 'e4,d6,d4,Nf6,Nc3,Nbd7,f4,e5,Nf3,exd4,Qxd4,c6,Be3,d5,exd5,Bc5,Qd2,Qb6,Bxc5,Nxc5,Qe3+,Kf8,O-O-O', 'Nb3+,axb3,Qxe3+', 'https://lichess.org/training/HMZiO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HMzLq', 'Blitz', 'Tbatista', 2140, 'NM aquiles88', 2277, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,Be3,exd4,Nxd4,Re8,f3,c6,Kf2,d5,cxd5,cxd5,Nxd5,Nxd5,exd5,Qxd5,Qb3,Qxb3,axb3,Bd7,Rhd1,Nc6,Nb5,Red8,Nxa7,Bxb2,Nxc6,Bxc6,Rxa8,Rxa8,Bc4,Bc3,Bh6,Bg7,Bg5,h6,Bf4,Ra2+,Kg3,Ra8,Rd6,Re8,Rxg6,Kh7,Rd6,Re7,Bd3+,Kg8,Rd8+,Re8,Rd6,Re7,Bxh6', 'Be5+,Bf4,Bxd6,Bxd6,Rd7', 'https://lichess.org/training/HMzLq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hn048', 'Blitz', 'Anderz105', 1667, 'chrisdon', 1671, 'e4,e6,d4,c6,Nf3,d5,e5,c5,c3,Nc6,b3,Qb6,Bb2,Nge7,Be2,Nf5,O-O,cxd4,cxd4,Be7,a3,Bd7,b4,a6,Qd3,Rc8,Nbd2,O-O,Nb3,Qa7,Qd1,b6,Bd3,a5,Bxf5,exf5,b5,Nd8,a4,Bb4,Rc1,Rxc1,Bxc1,Ne6,Bd2,Rc8,Bxb4,axb4,Qd3,Qxa4,Nbd2,Bxb5,Qxf5,Bxf1,Nxf1,Rc1,h3,Qa1,Ng5,Rxf1+,Kh2,Qxd4', 'Qxf7+,Kh8,Qe8+,Nf8,Qxf8#', 'https://lichess.org/training/hn048');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hn4LL', 'Rapid', 'sangguru2020', 1997, 'saab3', 1886, 'e4,e5,Nf3,Nc6,Be2,Bc5,O-O,Nf6,d3,h6,c3,O-O,b4,Bb6,a4,a6,a5,Ba7,Be3,Bxe3,fxe3,d6,Nbd2,Ng4,Qc1,Nxe3,Re1,Ng4,h3,Nf6,Rf1,Nh7,Rf2,Ng5,Kh2,Bd7,Nf1,Qe7,Ng3,Qe6,Nxg5,hxg5,Bg4,Qe7,Nf5,Bxf5,exf5,Qf6,h4,gxh4,Rf3,e4,dxe4,Ne5,Rf4,Nd3,Qe3,Nxf4,Qxf4,Qe5,Qxe5,dxe5,Kh3,g5,fxg6,fxg6,Kxh4,Kg7,c4,Rad8,b5,Rd4,bxa6,bxa6,Bf3,Rxc4,Rd1,Rd4,Rc1,Rc8,Rc6,Rd6,Rc5,Re6,Bg4,Rh8+,Kg3,Rd6,Rxc7+,Kf6,Ra7,Rb8,Kh4,g5+,Kg3,Rb3+,Bf3,Ra3,Rh7,Rxa5,Rh6+,Ke7,Rh7+,Kf8,Kg4,Rg6,Kf5,Rg7,Rh8+,Rg8,Rh7,Rc5,Bh5,Rg7,Rh6,a5,Ra6,Rgc7,Kxg5,R7c6,Ra7,Rb6,Kf5,Rb2,g4,Rf2+,Ke6,Rf4,Ra8+,Kg7,Ra7+,Kh6,Ra8,Rxe4,Kd6,Rb5,Ra7,Reb4,Ke6,e4,Kf6,Rb6+,Kf5,e3', 'g5+,Kxh5,Rh7+,Rh6,Rxh6#', 'https://lichess.org/training/Hn4LL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HN5Fl', 'Rapid', 'LuisAlce', 1724, 'gkjin1', 1731, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Ne2,Be7,Bf4,O-O,O-O,c5,c3,Nc6,dxc5,Bxc5,Nd2,Re8,Nf3,h6,Qc2,Ne4,Rad1,Qb6,Bg3,Bxf2+,Bxf2,Nxf2,Rxf2,Bg4,Kf1,Qc7,h3,Bxf3,Rxf3,Ne5,Rf2,Re6,Nf4,Nxd3,Nxd3,Qh2,Rf3,Rae8,Rd2,Rg6,Qd1', 'Qh1+,Kf2,Qxg2#', 'https://lichess.org/training/HN5Fl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HN5Gj', 'Blitz', 'razinov77', 1631, 'Slingnils', 1639, 'd3,d5,e3,e5,h3,f5,a3,Be6,Be2,e4,d4,Nc6,Nc3,Bd6,f3,Qe7,f4,O-O-O,g4,fxg4,hxg4,g6,f5,gxf5,gxf5,Bxf5,Bg4,Bxg4,Qxg4+,Qd7,Qxd7+,Rxd7,Nxd5,Bg3+,Ke2,Rxd5,Nh3,Nf6,Bd2,h5,Rag1,h4,Nf2,Bxf2,Kxf2,Rf5+,Ke2,Rfh5,Bc3,Nd5,Bd2,b5,b3,Kb7,c4,bxc4,bxc4,Nb6,d5,Ne5,c5,Nxd5,Rg7,Nd3,Ba5,h3,Rb1+,Kc6,Rg6+,Kxc5,a4,h2', 'Rb5+,Kc4,Rc6+,Nc5,Rcxc5#', 'https://lichess.org/training/HN5Gj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnADL', 'Rapid', 'samilrd', 2023, 'Korkutata', 2022, 'e4,e5,Nc3,f5,d3,Nf6,f4,d6,Bd2,Be7,Nf3,exf4,Bxf4,O-O,Be2,Nc6,O-O,fxe4,dxe4,Be6,Bg3,Nh5,Bf2,Bf6,Nd5,Bxb2,Rb1,Bf6,Rxb7,Bxd5,Qxd5+,Kh8,Qxc6,Rc8,Nd4,Nf4,Bg4,Bxd4,Bxd4,Qg5,Qd7,h5,Bf5', 'Qxg2#', 'https://lichess.org/training/HnADL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnBd7', 'Rapid', 'Dael74', 1610, 'SergeyKosik', 1604, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Qf6,Nc3,a6,Bg5,Qe6,d5,Qg6,dxc6,axb5,O-O,bxc6,Re1,Bg4,Bh4,Be7,Bxe7,Nxe7,Nh4,Bxd1,Nxg6,Nxg6,Raxd1,O-O,a3,f5,Na2,fxe4,Rxe4,Rf5,Nb4,Raf8,f3,Ne7,c4,bxc4,Rxc4,c5,Na6,Rc8,b4,cxb4,axb4,Rf4,Rxc7,Rxc7,Nxc7,Rf6,Nd5,Nxd5,Rxd5,Kf7,b5,Ke6,Rd1,Rf8,Rb1,Rb8,Kf2,Kd5,Ke3,Kc5,Ke4,Rxb5', 'Rxb5+,Kxb5,Kd5,Kb6,Kxd6', 'https://lichess.org/training/HnBd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HNcxo', 'Classical', 'naqvi52', 1650, 'xxxmcronin', 1739, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,e6,Bb5,Be7,O-O,O-O,a4,a6,Bc4,Bd7,Be3,Rc8,Bb3,Nb4,Na2,Nxa2,Rxa2,Bc6,Nd2,Nxe4,f3,Nf6,Bf4,Qb6+,Kh1,Nh5,Nc4,Qd8,Bxd6,Bxd6,Nxd6,Rc7,Nc4,Rd7,Qe2,Nf4,Qf2,Nd5,Ne5,Nb4,Raa1,Rd2,Qc5,Qg5,Rg1,Nd5,Bxd5,Bxd5,f4', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/HNcxo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hnD4l', 'Rapid', 'Ezzine', 1779, 'vinccz', 1646, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,d5,dxc5,dxe4,Nxe4,Qxd1+,Kxd1,f5,Neg5,Bxc5,Bb5,Nf6,Ne5,Bd7,Ngf7', 'Nxe5,Nxe5,Bxb5', 'https://lichess.org/training/hnD4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HndIR', 'Rapid', 'Pawn33', 1936, 'abdhaboosh55555', 2082, 'Nf3,d5,g3,Nf6,d4,c5,Bg2,Bf5,O-O,h6,c4,e6,Qa4+,Qd7,Qb3,Nc6,Ne5,Nxe5,dxe5,Ne4,cxd5,exd5,Nc3,Nxc3,bxc3,c4,Qd1,Rd8,Be3,b6,Bd4,Be6,e4,Ba3,f4,dxe4,Bxe4,O-O,f5,Bd5,Bc2,Bc6,Rf4,b5,Qg4,a5,e6,fxe6,f6,g5,Raf1,e5,f7+,Rxf7,Rxf7,Qxg4', 'Bh7+,Kh8,Bxe5#', 'https://lichess.org/training/HndIR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnDKa', 'Rapid', 'burnt_norton', 1827, 'Eser2016', 2050, 'Nf3,d5,d4,Nf6,c4,c6,Qb3,e6,g3,Bd6,Bg2,h6,O-O,Qc7,Nc3,dxc4,Qxc4,Nd5,Ne4,b5,Nxd6+,Qxd6,Qd3,Nb4,Qb1,O-O,a3,Nd5,e4,Nb6,Bf4,Qe7,Ne5,Bb7,Qc2,N6d7,Nd3,Na6,Rfd1,Rac8,b4,Nb6,Nc5,Nc4,Bf1,Nxc5,dxc5,Qf6,Bxc4,bxc4,Qxc4,Rfd8,Qc2,e5,Be3,Qf3,Rd6', 'Rxd6,cxd6,c5,Bxc5,Bxe4,Qxe4,Qxe4', 'https://lichess.org/training/HnDKa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HNEM6', 'Rapid', 'pichon_de_lechuza', 1616, 'Vaibhav421', 1614, 'e4,e5,c3,Nf6,d3,d5,Bg5,h6,Bxf6,gxf6,exd5,Qxd5,Nf3,Bf5,Be2,Nc6,c4,Qd6,a3,O-O-O,b4,Bxd3,Bxd3,Qxd3,Qxd3,Rxd3,O-O,Nd4,Nbd2,Nxf3+,Nxf3,Rg8,Rfd1,Rxf3,Kh1,Rxf2,Rg1,c5,b5,Bd6,a4,b6,a5,Kb7,g3,e4,Ra3,f5,Rga1,Ra8,axb6,axb6,Rxa8,Be5,R8a7+,Kc8,Ra8+,Kd7,R1a7+,Ke6,Rf8,Kf6,Rfxf7+,Kg5,Rab7,e3,Rfe7,Bd4,Rxb6,e2,Rbe6,Kg4,Rxe2', 'Rf1+,Kg2,Rg1#', 'https://lichess.org/training/HNEM6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnFso', 'Rapid', 'milovanvukayinovic', 1962, 'LIS25', 1963, 'e4,c6,Nf3,d5,exd5,cxd5,c4,Nf6,Be2,Bg4,cxd5,Nxd5,O-O,e6', 'Qa4+,Nc6,Qxg4', 'https://lichess.org/training/HnFso');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hng2R', 'Rapid', 'mystifen', 1922, 'Caltit', 1777, 'e4,e6,Nf3,c6,d4,a6,Nc3,b5,a3,Bb7,Be2,Nf6,Bg5,Be7,O-O,d5,e5,Nfd7,Qd2,h6,Be3,Kf8,Na2,c5,dxc5,Bxc5,Bxc5+,Nxc5,Rad1,Qe7,Rfe1,Nbd7,Nc3,g5,Qd4,Rc8,b4,Na4,Nxa4,bxa4,c4,Kg7,h3,Rhd8,c5,Nf8,Rc1,Ng6,b5,axb5,Bxb5,Bc6,Bxa4,Bxa4,Qxa4,Rxc5,Rxc5,Qxc5,Qb4,Qa7,Nd4,Rc8,Nb5,Qd7,Nd6,Ra8,Re3,Ra4,Qb8,Ne7,Ne8+,Kg6,Nf6,Qc8,Qd6,Nf5,Nxd5,Nxe3', 'Ne7+,Kg7,Nxc8', 'https://lichess.org/training/Hng2R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnHQE', 'Blitz', 'trutheroff', 2075, 'subsaj', 2038, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,d5,Nc3,dxe4,Nxe4,Be7,Be2,Nf6,Nc3,O-O,O-O,b6,Be3,Bb7,h3,Rc8,Qb3,Na5,Qd1,Nd5,Nxd5,Qxd5,Ne1,Rfd8,a3,Nc4,Bf3,Qd7,b4,Nxe3,fxe3,Bf6,Nd3,Bxf3,Qxf3,Rc3,Ne5,Bxe5,dxe5,Rf8,Rad1,Qc7,Rd6,Qc4', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/HnHQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hnir1', 'Rapid', 'hrrabjerg', 1815, 'Bravoleader', 1773, 'e4,e5,f4,d6,Bc4,Nf6,Nc3,Be7,fxe5,dxe5,Nf3,Bg4,Bxf7+,Kxf7,Nxe5+,Kg8,Nxg4,Nxg4,Qxg4,Nc6,Qe6+,Kf8,O-O+,Ke8,Nd5,Rf8,Rxf8+,Kxf8,d3,Nd4,Qg4,Nxc2,Nxe7,Qxe7,Bg5', 'Qc5+,Kh1,Nxa1', 'https://lichess.org/training/hnir1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hNjgM', 'Rapid', 'Aademalde', 1687, 'Riquelme1019', 1810, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,h3,O-O,O-O,d6,d3,h6,Be3,Nd4,Nxd4', 'exd4,Bd2,dxc3', 'https://lichess.org/training/hNjgM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hnjGz', 'Rapid', 'mmnxmmnx', 1823, 'Akki2406', 1801, 'd4,Nf6,Bf4,d5,e3,e6,Bb5+,c6,Bd3,Bd7,c3,Be7,Qc2,b6,Nf3,c5,Nbd2,c4,Be2,Nc6,Ne5,Nxe5,Bxe5,Bc6,h3,Bd6,Nf3,h6,a3,Qe7,g4,Bxe5,Nxe5,Rc8,g5,hxg5,O-O-O,b5,f4,gxf4,exf4,Ne4,Bf3,f5,Rhg1,Rxh3,Ng6,Qf6,Ne5,Rg3,Rh1,Kd8,Rh8+,Kc7,Rxc8+,Kxc8,Nxc6,Rxf3,Nxa7+,Kd8,Nxb5,Rxf4,Qh2,Qg5,Qh8+,Ke7,Kb1,Kf7,Nc7,Qe7,Qh5+,Kf6', 'Ne8+,Qxe8,Qxe8', 'https://lichess.org/training/hnjGz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HNJwq', 'Blitz', 'nasticus', 2210, 'IM Satsanga', 2359, 'e4,c5,Nf3,e6,g3,Nf6,Nc3,d5,exd5,Nxd5,Bg2,Nxc3,bxc3,Nc6,O-O,Be7,d4,O-O,Ba3,Qa5,Bxc5,Bxc5,dxc5,Qxc5,Qd3,Rd8,Qe4,Qxc3,Rad1,Bd7,Qh4,Qxc2,Ng5,Qg6,Ne4,Ne5,Nd6,Bc6,Bxc6,bxc6,Qf4,Qf6,Qxf6,gxf6,f4,Nd7,Nb7,Kf8,Nxd8,Rxd8,Rd6,Ke7,Rfd1,c5,Ra6,Ra8,Kf2,Nb6,a4,Nd5,Rc1', 'Nb4,Ra5,Nd3+,Ke3,Nxc1', 'https://lichess.org/training/HNJwq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hNkLa', 'Blitz', 'mehralianmrmy', 1730, 'geographybuff', 1848, 'd4,d5,Nf3,Bf5,e3,Nf6,c4,c6,a3,Nbd7,b4,Qc7,Nc3,e5,Be2,Be7,c5,O-O,O-O,h6,Qb3,b6,a4,a5,Ba3,axb4,Bxb4,bxc5,Bxc5,Nxc5,dxc5,Bxc5,Rfc1,Bd6,Nxd5,Nxd5,Qxd5,e4,Qxf5,exf3,Bxf3,Bxh2+,Kf1,Be5,Rxc6,Qe7,Rac1,Rxa4,Rc8,Ra1,Rxf8+,Kxf8,Rxa1,Bxa1,Ke2,Bf6,e4,g6,Qc8+,Kg7,Qc4,Qe5,Bg4,h5,Bf3,Qb2+,Ke3', 'Bg5+,Kd3,Qd2#', 'https://lichess.org/training/hNkLa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hnKtW', 'Blitz', 'Moaazmagdy', 1864, 'orexovalexs', 1868, 'd4,e5,e3,exd4,Qxd4,Nc6,Qd1,Nf6,Nc3,Bb4,Bd2,O-O,Bd3,d6,Qe2,Ne5,f4,Nxd3+,Qxd3,Nh5,O-O-O,Nf6,Nf3,a5,g4,Bxg4,Rdf1,Qd7,h3,Be6,a3,c5,Ng5,h6,Nxe6,Qxe6,e4,Bxc3,Bxc3,Qxe4,Qg3,Nh5,Qg4,Qg6,Qf3,b5,Rfg1,Qf5,h4,b4,Bxg7,Nxg7,a4,Kh7,Qg2,Rg8,h5,Qxf4+,Kb1,b3,cxb3,Qf5+,Ka1,Rab8,Ka2,Qe6,Qg3,f5,Rh2,f4,Qg6+,Qxg6', 'hxg6+,Kh8,Rxh6#', 'https://lichess.org/training/hnKtW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnKza', 'Rapid', 'Kharmi', 1698, 'FODonovan', 1745, 'e4,e5,f4,exf4,Nf3,d6,d4,Be7,Bc4,h6,Bxf4,Bg4,Nc3,Nf6,h3,Bxf3,gxf3,O-O,Qd2,c6,Rg1,Kh8,Bxh6,g6,Bxf8,Qxf8,O-O-O,d5,Bd3,dxe4,Nxe4,Nbd7,c3,Nh7,Qg2,f5,Nf2,Bg5+,Kb1,Qh6,Bc2,Be3,Qxg6,Qxg6,Rxg6,Bxf2,Bxf5,Ndf6,Rf1,Be3,Re1,Re8,Kc2,Nd5,Rh6,Bxh6,Rxe8+,Kg7,Ra8,Ne3+,Kb3,Nxf5,Rxa7,Nd6,c4,Nf5,Rxb7+,Kg6,Rc7,Nxd4+,Kc3,Bg7', 'Rxg7+,Kxg7,Kxd4', 'https://lichess.org/training/HnKza');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnlMW', 'Rapid', 'Slago', 1813, 'Mirandapigen', 1861, 'd4,Nf6,Bf4,c5,Nf3,Qb6,dxc5,Qxb2,Be5,Qb5,Qd4,Nc6,Qc3,Ne4,Qe3,Nxc5,Nc3,Qa5,Bd4,Nxd4,Qxd4,e6,Nd2,d6,e3,e5,Qc4,Be6,Qb5+,Qxb5,Nxb5,Kd7,Be2,a6,Nc3,d5,O-O,Kc7,Nf3,f6,Rad1,Kc6,Bd3,e4,Nd4+,Kd7,Nxe6,Kxe6,Be2,Rd8,f3,Bd6,fxe4,Nxe4,Nxd5,Bc5,Nc7+,Kf7,Rxd8,Rxd8,Bc4+,Ke7,Nd5+,Kd6,Rd1,Ke5,h3,b5,Bb3,a5,Nc3,Rxd1+,Nxd1,a4,Bf7,Nd2,Kf2,Ne4+,Kf3', 'Ng5+,Ke2,Nxf7', 'https://lichess.org/training/HnlMW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnMQT', 'Blitz', 'frodulec', 1579, 'mguit', 1576, 'a4,e5,e4,Nf6,Nc3,Bb4,Nf3,Nc6,d3,O-O,Bd2,Re8,Be2,d5,exd5,Nxd5,Nxd5,Qxd5,c4,Qd7,Bxb4,Nxb4,Qd2,a5,O-O,b6,Qc3,Qd6,Rfe1,Bb7,d4,exd4,Nxd4,c5,Nb5,Qg6,f3,Re7,Rad1,Rae8,Rd2,Re3,Rd8,Qg5,Rxe8+,Rxe8,Nd6,Re3,Qd2,Bxf3,Bxf3,Rxe1+,Qxe1,h5,Qe8+,Kh7,Nxf7,Qc1+,Kf2,Nd3+,Kg3', 'Qf4+,Kh3,Nf2#', 'https://lichess.org/training/HnMQT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hnmu2', 'Blitz', 'NM mnmassari', 2171, 'gerson_sales', 2139, 'd4,Nf6,c4,c5,e3,e6,Nf3,b6,Nc3,Bb7,Be2,d5,O-O,Nbd7,h3,Be7,cxd5,exd5,Bb5,O-O,Re1,a6,Bxd7,Qxd7,Ne5,Qc7,Bd2,c4,Qf3,b5,a3,Bd6,Ng4,Nxg4,hxg4,Rad8,g3,Be7,Kg2,Bc6,Rh1,a5,Rh5,g6,Rh3,f5,Rah1,fxg4,Qxg4,Bd7,Nxd5,Bxg4,Nxc7,Bxh3+,Rxh3,Rb8,Bxa5,b4,axb4,Bxb4,Bxb4,Rxb4,Ne6,Rf7,Ng5,Re7,d5,Rxb2,d6,Rd7,Ne4,c3,Nf6+,Kg7,Nxd7', 'c2,Rh1,Rb1,Ne5,Rxh1,Kxh1,c1=Q+', 'https://lichess.org/training/hnmu2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnmWH', 'Classical', 'jd76', 1717, 'pjmark', 1688, 'd4,e6,c4,b6,Nc3,Bb7,Nf3,Bxf3,exf3,Bb4,Bd3,Nc6,Be4,f5,Bc2,Qf6,Be3,f4,Bd2,Nxd4,Ne4,Bxd2+,Qxd2,Qe5,O-O-O,c5,Rhe1,d5,Nxc5,Qg5,Na6,Rc8,Qxd4,Rxc4,Rxe6+,Kf7,Qe5,Qxe5,Rxe5,Ne7,Kb1,Kf6,Rh5,g6,Rh4,h5,b3,Kg5,g3,fxg3,fxg3,Rxh4,gxh4+,Kxh4,Rg1,Rh6,Rg3,d4,Nc7,g5,Ne6,Rxe6,Bd3,Re3,Kc2,Nd5,Be4,Nb4+,Kb2,d3,a3,d2,Bf5,d1=Q', 'Rh3#', 'https://lichess.org/training/HnmWH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hNpaw', 'Rapid', 'Xigalo-chess1987', 2208, 'ARTEM20142014', 2238, 'd4,Nf6,Nf3,d5,Bf4,e6,h3,c5,c4,Nc6,e3,cxd4,exd4,Bb4+,Bd2,O-O,a3,Bxd2+,Nbxd2,a6,c5,Re8,Be2,e5,dxe5,Nxe5,Nxe5,Rxe5,O-O,Bf5,Nf3,Re8,Bd3,Qd7,Nd4,Be4,f3,Bxd3,Qxd3,Rad8,b4,Qc7,Rad1,Qg3,Nf5,Qf4,Nd6,Re7,Rde1,Red7,Re2,h5,Rfe1,a5,Qd2,Qg3,Qe3,h4,Qe5,Qg6,Qf5,Qg3,Re5,axb4,axb4,Nh7,Qc2,Ng5', 'Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/hNpaw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hnqi3', 'Blitz', 'rosweltcamacho', 1863, 'danish_dynamite_420', 1866, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,d4,Nc6,Nf3,Bf5,c3,e6,Bg5,Be7,Nbd2,Ne4,Bxe7,Qxe7,Nxe4,Bxe4,O-O,O-O,Re1,Qf6,Re3,Ne7,Ne5,Rfd8,f3,Bf5,Bc2,Nc6,Nxc6,bxc6,Bxf5,Qxf5,Re5,Qf6,Qd2,Rab8,b3,Qe7,Qg5', 'f6,Qh4,g5,Rxg5+,fxg5', 'https://lichess.org/training/hnqi3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hnqnU', 'Rapid', 'nikzal', 1928, 'ujcn', 1815, 'd4,e6,c4,Nf6,Nc3,Bb4,Bg5,h6,Bh4,c5,e3,Bxc3+,bxc3,Qa5,Qc2,Ne4,Ne2,g5,Qxe4,gxh4,Qxh4,Nc6,g3,cxd4,exd4,b6,Bg2,Ba6,d5,exd5,Bxd5,Rc8,O-O,Ne5,Rfe1,Bxc4,Bxc4', 'Nf3+,Kf1,Nxh4', 'https://lichess.org/training/hnqnU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hnRDG', 'Rapid', 'Captain_Slow', 1879, 'pedrosqui7', 1861, 'd4,d5,Nf3,c6,c4,e6,e3,Nf6,Nc3,Bb4,c5,O-O,a3,Ba5,b4,Bc7,Bd3,b6,O-O,bxc5,bxc5,a5,a4,Ba6,Bxa6,Nxa6,Rb1,Nb4,Re1,Re8,e4,dxe4,Nxe4,Nxe4,Rxe4,Qd5,Rh4,f6,Ba3,Na2,Qc2,g6,Rb2,Nb4,Bxb4,axb4,Rxb4,Reb8,Qb2,Rxb4,Qxb4,Rb8,Qe1,Qf5,Nd2,g5,Rh3,Bf4,Rf3', 'Bxd2,Rxf5,Bxe1', 'https://lichess.org/training/hnRDG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HNroH', 'Rapid', 'suns_511', 1927, 'jcaki', 1933, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,e6,a3,c6,Nc3,Qc7,Nf3,Be7,Bd3,h6,O-O,O-O,h3,Nbd7,b4,b5,Bb2,Bb7,Ne4,Nd5,Nc5,Bxc5,dxc5,a5,Qb3,axb4,axb4,Rxa1,Rxa1,Ra8,Rxa8+,Bxa8,g3,Qa7,Nd4,Qa4,Bc2,Qxb3,Bxb3,Nxb4,Nxe6,fxe6,Bxe6+,Kf8,Bxd7,Nd3,Bd4,Ke7,Bf5,Nc1,Bxg7,b4,Bxh6,b3,Bg7,Bb7,Bb2,Na2,g4,Ba6,h4,Bc4,f4,Nb4,h5,Bd3,Bxd3,Nxd3,Bc3,Nxc5,Kf2', 'Ne4+,Kg2,Nxc3', 'https://lichess.org/training/HNroH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnrzO', 'Rapid', 'archibishop123456', 1623, 'Benoilaba', 1654, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bb5,dxe4,Nxe5,Bd7,Qh5,g6,Nxc6,bxc6,Qe5+,Be6,Qxh8,cxb5,Qe5,Bd6,Qxb5+,Bd7,Qe2,Qe7,d3,f5,O-O,Bc6,a3,Kf7,dxe4,Bxe4,b4,Qe5,g3,Qxa1,Qc4+,Ke8,Qe6+,Be7,Bg5,Qg7,f3,Bxc2,Qc6+,Kf7,Qxa8,Bxg5', 'Qd5+,Kf8,Qc5+,Qe7,Qxc2', 'https://lichess.org/training/HnrzO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnTyw', 'Rapid', 'aliemianna', 1925, 'Ramil_87', 1929, 'e4,g6,d4,Bg7,Nf3,c5,c3,cxd4,cxd4,Nf6,Nc3,O-O,Bd3,b6,Be3,Bb7,O-O,e6,e5,Ng4,Qe2,Nc6,Rac1,Ne7,Ne4,Nf5,Nd6,Bxf3,Qxf3,Ngxe3,fxe3,Nxd6,exd6,Rc8,Qf2,Qg5,e4,Qa5', 'Rxc8,Rxc8,Qxf7+,Kh8,Qxd7', 'https://lichess.org/training/HnTyw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hnUjh', 'Blitz', 'TheEnglishOpening', 1913, 'Elizarraraz002', 1924, 'c4,Nf6,Nc3,d5,g3,d4,Nb1,c5,Bg2,e5,d3,Nc6,e4,Bd6,Ne2,Be6,O-O,a6,f4,g6,f5,gxf5,exf5,Bd7,Nd2,Qb6,Ne4,Nxe4,Bxe4,O-O-O,f6,Bh3,Bg2,Bxg2,Kxg2,h5,Ng1,h4,g4,Rdg8,h3,Nb4,Nf3,Qc6,a3,e4,dxe4,Qxe4,axb4,Rxg4+,hxg4,Qxg4+,Kh1,Qh3+,Kg1,Rg8+,Kf2,Bg3+,Ke2,Re8+,Kd3', 'Qf5+,Kd2,Bf4#', 'https://lichess.org/training/hnUjh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnWGf', 'Rapid', 'ol-_dr', 2071, 'Joseph052099', 1990, 'e4,c6,d4,d5,e5,Bf5,Nf3,h6,Be2,e6,O-O,Nd7,Re1,Qb6,c3,Ne7,b4,a6,a4,g5,Na3,Ng6,a5,Qc7,Qb3,g4,Nd2,h5,c4,Rc8,cxd5,cxd5,Bb2,Bc2,Qe3,Bh6,f4,Bxf4,Qf2,Bxd2,Rf1,Ndf8,Nxc2,Qxc2,Qxf7+,Kd8,Qf6+,Kc7,Bc1,Rh7,b5,Bc3,Ra3,Bxd4+,Be3,Bxe3+,Rxe3,Qd2,Qg5,axb5,Bxb5,Qxa5,Rc1+,Kb8,Rb1,Qd2,Bf1,Rhc7,Ra1,Rc1,Ra8+,Kc7,Raa3,Re1', 'Rec3+,Qxc3,Rxc3+', 'https://lichess.org/training/HnWGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HNwZ9', 'Rapid', 'Sergey-61', 2246, 'Fleido', 2275, 'e4,Nc6,Nf3,e5,d4,exd4,Nxd4,Bc5,Be3,Qe7,Nc3,Nxd4,Bxd4,Nf6,Bxc5,Qxc5,Bd3,O-O,O-O,d6,Nd5,Nxd5,exd5,f5,c4,Bd7,Qc2,Rae8,Rae1,g6,Qc3,a5,b3,b5,Qxa5,Ra8,Qd2,bxc4,Bxc4,f4,Re7,Rf7,Rfe1,Raf8,Qc2,Bf5,Qb2,f3,gxf3,Bd7,a4,Qa5,Kg2,Qa8,R1e3,Qc8,h4,Bh3+,Kg3', 'Rxf3+,Kh2,Rxf2+,Qxf2,Rxf2+', 'https://lichess.org/training/HNwZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hnxCK', 'Rapid', 'Ikaria2017', 1821, 'romgor', 1816, 'c4,c5,Nc3,Nf6,Nf3,g6,e3,Bg7,h3,d6,g3,a6,Bg2,Nc6,d4,cxd4,exd4,O-O,d5,Na5,Nd2,Nd7,O-O,b5,cxb5,axb5,Nxb5,Ba6,a4,Nc5,Ra3,Nd7,Re1,Ne5,b4,Nac4,Nxc4,Nxc4,Ra2,Bxb5,Bg5,Ne5,f4,f6,fxe5,fxg5,exd6,Qxd6,Qg4,Rxa4,Rxa4,Bxa4,Re6,Qc7,Qxg5,Bf6,Qe3,Bc6,Rxc6,Qb7,Qb6', 'Qxb6+,Rxb6,Bd4+,Kh1,Bxb6', 'https://lichess.org/training/hnxCK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HnyBQ', 'Rapid', 'ArtureRimbaud', 2005, 'zvukic', 1992, 'd4,d5,Nf3,e6,Nbd2,Nf6,e3,c5,c4,Nc6,cxd5,Qxd5,Bc4,Qd8,O-O,cxd4,Nxd4,Nxd4,exd4,Qxd4,Re1,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/HnyBQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ho1xu', 'Rapid', 'Serdavman', 1891, 'jeffsonadam', 1927, 'd4,Nf6,Nf3,e6,e3,c5,c3,a6,Bd3,b5,Nbd2,Bb7,Qe2,cxd4,exd4,Be7,Ne4,O-O,h4,Nd5,Nc5,Bc6,Bxh7+,Kxh7,Ng5+,Kg8,Nce4,g6,h5,Nf6,Nxf6+,Bxf6,hxg6,fxg6,Qd3,Qe7,Rh7,Bg7,Qxg6,Qf6', 'Rh8+,Kxh8,Qh7#', 'https://lichess.org/training/Ho1xu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ho3jQ', 'Rapid', 'karimdel2739', 1971, 'alitirpan', 2033, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,c3,Nf6,Qb3,O-O,Ng5,Qe8,O-O,Nc6,cxd4,h6,e5,Nxd4,Qd3,dxe5,Ne4,Nxe4,Qxe4,Bd6,Re1,Qc6,Bd5,Qc2,Qh4,c6,Be4,Qc4,Nc3,Bf5,Bxf5,Ne2+,Nxe2,Qxh4,Ng3,g6,Bd3,f5,Bd2,e4,Bc4+,Kh7,Rad1,Bxg3,hxg3,Qe7,Bf4,Rfd8,Rc1,g5,Be3,Rd7,Bc5,Qf6,Bb4,Rad8,Bc3,Qf8,Be6,Rd3,Bc4,b5,Bxd3,exd3,Rcd1,c5,Re6,c4,Rde1,Rd7,Rf6,Qc5,Ree6,b4,Rxh6+,Kg8,Reg6+,Kf7', 'Rg7+,Ke8,Rh8+,Qf8,Rxf8+,Kxf8,Rxd7,bxc3,bxc3', 'https://lichess.org/training/ho3jQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ho3uc', 'Rapid', 'mauroDuartE', 1792, 'CM JLEnamorado', 1932, 'e4,e5,c3,d5,exd5,Qxd5,d4,exd4,cxd4,Nf6,a3,Nc6,Be3,Bg4,Nc3,Qd8,Be2,Bxe2,Ngxe2,Be7,O-O,O-O,f3,Nd5,Nxd5,Qxd5,Nc3,Qf5,Qb3,Rab8,Rfe1,Bf6,Nd5,Bd8,Bf2,Na5,Qb5,c6', 'Ne7+,Bxe7,Qxf5', 'https://lichess.org/training/Ho3uc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ho3WM', 'Blitz', 'Seelewe', 2040, 'yohanesgt10', 2102, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,Bg5,Be7,Nc3,O-O,O-O-O,b5,Bb3,c5,Qd2,c4,Nxb5,cxb3,axb3,Ne8,Bxe7,Qxe7,Nxd6,Nxd6,Qxd6,Qxe4,Rhe1,Qg6', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/Ho3WM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HO4iy', 'Blitz', 'Yuriy_2010', 2196, 'FM dabee', 2542, 'e3,e5,c4,c6,d4,exd4,exd4,d5,Nf3,Nf6,Be2,Bb4+,Nc3,dxc4,O-O,Be6,Ne5,Nd5,Bxc4,Bxc3,bxc3,Nxc3,Qb3,Bxc4,Qxc4,Nd5,Ba3,f6,Nf3,Nd7,Rfe1+,Kf7,Rab1,Nb6,Qd3,Qd7,Qe4,Rae8,Qh4,Qf5,Qg3,Re6,Rxe6,Qxb1+,Re1,Qxa2,Qd6,Re8,Rxe8,Kxe8,Qf8+,Kd7,Qxg7+,Kc8,Qf8+,Kc7,Bd6+,Kd7,h4,Qb1+,Kh2,Qg6,Bg3,Nc4,Qb8,Qb1,Qg8,Qg6,Qb8,Qb1,h5,a5,Nh4,Qe4,Qxb7+,Kd8,Qxc6,Ncb6,Qd6+,Ke8,Qc6+,Kf7,Qb7+,Qe7,Qc6,Qd7,Qc2,Kg8,Nf5,a4,Nh6+,Kg7,Nf5+,Kf8,Qe4,a3,Qg4,a2,Bd6+,Qxd6+,Nxd6,a1=Q,Qe6,Qa7', 'Qe8+,Kg7,Nf5#', 'https://lichess.org/training/HO4iy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hO5Tq', 'Rapid', 'KV848', 1831, 'shagul1', 1903, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,e5,Nd5,Bd2,O-O,Nxd5,Bxd2+,Qxd2,cxd5,Qxd5,c6,Qd6,Re8,O-O-O,Qa5,a3,Qxe5,Bc4,a5,Rhe1,Qxe1,Rxe1,Rxe1+,Kd2,Re8,f4,Ba6,Bxa6,Rxa6,Qxd7,Raa8,Qxc6', 'Rad8+,Kc3,Rc8,Qxc8,Rxc8+', 'https://lichess.org/training/hO5Tq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ho78i', 'Classical', 'kartoffeln777', 2107, 'Star_Hipnos', 2074, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Bb3,Be7,O-O,O-O,Re1,c5,Bxd5,Nxf2,Kxf2,Bh4+,Nxh4,Qxh4+,Kf1,Qxh2,Qf3,Nc6,Re8,Qh1+,Kf2,Qh4+,g3', 'Qh2+,Qg2,Qxg2+,Bxg2,Rxe8,Bxc6,bxc6', 'https://lichess.org/training/ho78i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ho8jL', 'Blitz', 'Cadoow', 1967, 'aG_Puzzles', 2000, 'd4,Nf6,c4,e6,Nf3,d5,Bg5,c6,Nc3,Be7,e3,O-O,Bd3,h6,Bh4,Nbd7,O-O,dxc4,Bxc4,a5,a4,c5,Qb3,cxd4,Nxd4,Ne5,Be2,Re8,Rfd1,Nd5,Bxe7,Rxe7,Nxd5,exd5,Rac1,Be6,h3,Rc7,Nxe6,fxe6,Rc3,Rac8,Rdc1,Qe7,Qd1,Rxc3,Rxc3,Rxc3,bxc3,Qc5,Qd4,Qxd4,cxd4,Nd7,Bg4,Nb6,Bxe6+,Kf8,Bf5,Nxa4,Bc8,b6,Bb7,Nc3,Kf1,b5,Bc6,b4,Ke1,Ke7,Kd2,Kd6,Ba8,a4,Kc2,Kc7,g4,Kb6,f4,a3,Kb3,a2,Kb2,Nd1+,Kxa2,Nxe3,Kb3,Ka5,Bb7,Nc4,Bxd5,Nd6,Bc4', 'Nxc4,Kxc4,Ka4,d5,b3,Kc3,Ka3,d6,b2,Kc2,Ka2', 'https://lichess.org/training/ho8jL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hO8K1', 'Blitz', 'Kartaca87', 2362, 'IM amrsobh', 2391, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,c5,Bg5,cxd4,Nxd4,Qa5,Bd2,O-O,a3,Bxc3,Bxc3,Qc5,e3,Ne4,Bb4,Qb6,Bxf8,Qxb2,Bb4', 'Qxf2#', 'https://lichess.org/training/hO8K1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hO8tX', 'Rapid', 'russellf', 1772, 'Infinitum_Nihil', 1778, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,Bg7,d5,O-O,Bd3,c6,O-O,e5,Bg5,h6,Bxf6,Qxf6,dxc6,bxc6,Bc4,Bb7,Qd2,Nd7,Rad1,d5,exd5,cxd5,Nxd5,Bxd5,Bxd5,Rad8,Qa5,Nb6,Bb3,Ra8,Rfe1,Rfe8,Qa6,e4,Nd4,Rad8,c3,Rd7,Qb5,Qf4,Ne6,Rxe6,Rxd7,Nxd7,Bxe6,fxe6,Qxd7,Qf6,Rxe4,e5,Qxa7,Qc6,f3,Bf8,Rxe5,g5,Qe3,Kf7,Rf5+,Kg8,h4,Qd7,Qe4,Qd1+,Kh2,Bd6+,Kh3', 'Qh1+,Kg4,Qxh4#', 'https://lichess.org/training/hO8tX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HOanT', 'Rapid', 'youngsizar', 1713, 'h_sohrabinia', 1633, 'e4,e5,Nf3,d6,d4,f6,dxe5,fxe5,Nxe5,dxe5,Qh5+,Kd7,Qxe5,Qe7,Qf5+,Kd8,Qf3,Nf6,Bg5,Ke8,Bc4,Qxe4+,Qxe4+,Nxe4,Bf4,Bd6,Be3,Nc6,O-O,Nb4,Na3,Bf5,Rfe1,Kd7,Bd4,Nf6,c3,Nc6,Bb5,Bxa3,bxa3,a6,Bc4,b5,Bf1,Rhf8,Bc5,Rf7,c4,Rb8,cxb5,axb5,a4,Ne4,axb5,Nxc5,bxc6+,Kxc6,Rac1,Ra8,Re5,Ra5,g4,Bxg4,Bg2+,Bf3,Bxf3+,Rxf3,Re6+,Kd5,Re7,Nd3,Rcxc7,Rxa2,Rcd7+,Kc4,Rc7+,Kb3,Rb7+,Kc2', 'Re2+,Kc3,Rxa2', 'https://lichess.org/training/HOanT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hoAOr', 'Blitz', 'maximilianovarela', 1837, 'ezequielmeler', 1852, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,g6,c3,Bg7,d4,cxd4,cxd4,Nf6,Nc3,O-O,Bg5,h6,Bh4,g5,Bg3,Bg4,Qd2,Bxf3,gxf3,Nh5,d5,Ne5,Be2,f5,f4,Nxg3,fxg3,gxf4,gxf4,Ng4,Bxg4,fxg4,Qg2,Qb6+,Kh1,Kh8,Rf2,Rg8,Qg3,Rac8,Nd1,Qd4,Re2,Rc4,Nf2,Qc5,Nxg4,e6,Qh4,Kh7,dxe6,d5,e5,d4,e7,Qd5+,Kg1,d3,Rg2,Qd4+,Kh1,d2,Qxh6+,Bxh6', 'Nf6+,Kh8,Rxg8#', 'https://lichess.org/training/hoAOr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOc3K', 'Rapid', 'FakeDivine', 1880, 'CPSharma', 1722, 'd4,d5,c4,c5,e3,cxd4,exd4,Nc6,Nf3,Nf6,Be3,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,cxd5,exd5,c4,Re8,Be2,dxc4,Bxc4,Qa5+,Qd2,Qxd2+,Kxd2,Ne4+,Ke1,Nd6,Bd5,Bg4,Bxc6,bxc6,Ke2,Rab8,Rab1,Rxb1,Rxb1,Nf5,Rb7,Nxd4+,Kd3,Bxf3,gxf3,Nb5,a4,Rd8+,Kc2,Na3+,Kc3,a6,Rb6,a5,Rxc6,Rb8,Bb6,Nb1+,Kc2,Na3+,Kb2', 'Rxb6+,Rxb6,Nc4+,Kc2,Nxb6', 'https://lichess.org/training/hOc3K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOCbv', 'Blitz', 'gattous', 1766, 'sharenbazikon24', 1766, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,Ne5,e6,c3,Be7,h4,Be4,Nxe4,Nxe4,Qh5,O-O,Bd3,g6,Qh6,Nf6,Bg5,Nbd7,O-O-O,Re8,Bf4,Nd5,h5,Nxf4,Qxf4,Bg5,g3,Bxf4+,gxf4,Nxe5,dxe5,Qb6,hxg6,fxg6,Rh2,Rf8,Rdh1,Rxf4,Bxg6,hxg6', 'Rh8+,Kf7,R1h7#', 'https://lichess.org/training/hOCbv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HOCdw', 'Classical', 'hoslo', 1726, 'Josephus005', 1837, 'e4,e5,b3,Nc6,Bb2,Bc5,Nc3,Nf6,Bb5,d6,Bxc6+,bxc6,Nf3,Bg4,h3,Bh5,g4,Bg6,d4,exd4,Nxd4,Qd7,Na4,Bb6,Nxb6,axb6,Nf5,Bxf5,gxf5,O-O,Qd4,c5', 'Qxf6,gxf6,Rg1+,Kh8,Bxf6#', 'https://lichess.org/training/HOCdw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOcls', 'Classical', 'Roman_Kn', 1636, 'vineetkumar', 1652, 'e4,e5,Nf3,d6,Bc4,h6,Bb5+,Bd7,Bc4,a6,d3,Nf6,a3,c6,Nc3,Be6,Bxe6,fxe6,Be3,d5,exd5,cxd5,Nxe5,d4,Ng6,Rg8,Bxd4,Qxd4,O-O,Bd6,Qe2,e5,Rad1,Nc6,Ne4,O-O-O,Nxd6+,Rxd6,c3,Qd5,d4,exd4,cxd4,Nxd4,Qd2,Re8,Rfe1,Kd7,Rxe8,Nxe8,Qe3,Rxg6,g3,Nf3+', 'Qxf3,Qxd1+,Qxd1+', 'https://lichess.org/training/hOcls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOcVt', 'Classical', 'BOOLKODROT', 1661, 'WhiteGreenBlue', 1634, 'e4,e5,Nf3,Bd6,Bc4,Nc6,c3,b6,d4,exd4,cxd4,Bb4+,Nc3,f6,Qb3,Bxc3+,bxc3,Qe7,Bxg8,Na5,Bf7+,Kd8,Qd5,Bb7,Qh5,Qxe4+,Be3,Ba6,Bd5,Qd3,Ne5', 'Qxc3+,Bd2,Qxa1+', 'https://lichess.org/training/hOcVt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HoE5Y', 'Rapid', 'amid-008', 1896, 'Modishas', 1871, 'e4,e5,d4,exd4,Nf3,c5,Bc4,Be7,Ne5,d5,Bxd5,Be6,Bxe6,fxe6,Qh5+,g6,Nxg6,Nf6,Qh3,Rg8,Nxe7,Qxe7,O-O,Nc6,c3,O-O-O,Na3,Rdf8,cxd4,Nxd4,e5,Ne4,f4,Rg6,Be3,Ne2+,Kh1,Rfg8,Nc4,Rg4,Nd6+,Nxd6,exd6,Qxd6,Rad1,Qe7,Qf3,Rxg2,Qxg2,Rxg2,Kxg2,Qh4,Rf2,Nd4,Bxd4', 'Qg4+,Kh1,Qxd1+', 'https://lichess.org/training/HoE5Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOeYu', 'Classical', 'baris88', 1770, 'BGSangma', 1821, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,a6,d3,d6,Nd5,Nd4,c3,Nxf3+,Qxf3,Be6,Be3,Bxe3,Qxe3,c6,Nb6,Rb8,Bxe6,fxe6,O-O,Nf6,h3,c5,Nc4,b5,Nd2,O-O,b3,Nh5,Nf3,h6,a3,Rb7,Qe2,Nf4,Qd1,Rbf7,Kh2,Qf6,g3,Kh7,Nh4,g5,gxf4,gxh4,fxe5,Qxe5+,Kh1,Qxc3,Rg1,Rxf2,Qg4,Qb2', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/hOeYu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HoF9I', 'Rapid', 'mikhail_kaplin', 1892, 'rhoencar', 2005, 'd4,d5,c4,c5,cxd5,cxd4,Qxd4,Nc6,Qa4,Qxd5,Nc3,Qd8,e4,e5,Nf3,Bd6,Be2,Nf6,Bg5,O-O,Nd5,Qa5+,Qxa5,Nxa5,Nxf6+,gxf6,Bxf6,Be6,O-O,Nc6,Bb5,a6,Bxc6,bxc6,Bxe5,Bc5,Rfc1,Be7,Rxc6,Bd7,Rc7,Rfd8,Rd1,Rac8,Rxc8,Rxc8,h3,Be6,a3,f6,Bc3,Bxa3,Bxf6,Bb4,Ng5,Bb3,Rd7,a5,Rg7+,Kf8,Nxh7+,Ke8,Ng5,Bd6,Bc3,a4,h4,a3,Ra7,axb2,Bxb2,Rc2,e5,Bc5,Ra8+,Kd7,e6+,Bxe6,Nxe6,Kxe6,Rb8,Rxf2,Kh1', 'Rf1+,Kh2,Bd6+,g3,Bxb8', 'https://lichess.org/training/HoF9I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HOFAL', 'Classical', 'Gomitaz', 1906, 'andre001', 1925, 'd4,Nf6,Nf3,c5,dxc5,Nc6,Nd4,e5,Nxc6,bxc6,b4,a5,c3,Ne4,Qd3,f5,f3,Ba6,c4,Qh4+,g3,Nxg3,hxg3,Qxh1,b5,Bxc5,bxa6,g6,Be3,e4,Qc3', 'Bb4,Bc5,Bxc3+', 'https://lichess.org/training/HOFAL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HOFZm', 'Rapid', 'Mantv1s', 1855, 'bbtroyano', 1740, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Nf3,Nh6,Bxh6,gxh6,Nbd2,Bg7,Bxc6,Bxc6,dxc5,Rc8,b4,a5,a3,axb4,axb4,Bb5,Nb3,O-O,Nbd4,Bc4,Qd2,Qc7,Qe3,Ra8,Kd2,Ra2+,Rxa2,Bxa2,Ra1,Bc4,Re1,Ra8,Nc2,Ra2,Nd4,Qd7,Ra1,Qa4,Rxa2,Qxa2,f4,h5,Qf3,h4,Qg4,Qb1,Qxh4,Qf1,Qg3,Kh8,h4,Bh6,Qf3', 'Bxf4+,Qxf4,Qxf4+', 'https://lichess.org/training/HOFZm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HoG7k', 'Rapid', 'johan-guerrero', 1858, 'Zeus-120', 2111, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bg5,O-O,f3,Nbd7,Bd3,e5,d5,h6,Be3,Nc5,Bxc5,dxc5,Nge2,Nd7,Qc2,Qg5,Rg1,f5,Qd2,Qxd2+,Kxd2,f4,Raf1,Nf6,g3,Bh3,Rf2,g5,gxf4,gxf4,Nc1,a6,Bf1,Bxf1,Rgxf1,Kh8,Rg2,Rg8,Rfg1,Nd7,Nd3,b6,b4,cxb4,Nxb4,Nc5,Nc6,Bf6,Rxg8+,Rxg8,Rxg8+,Kxg8,Nb4,a5,Nd3,Nb7,Nb5,Nd6,Nxc7,Nxc4+,Kc3,Nd6,a4,Kf7,Nb2,Bd8,Ne6,Ke7,Nc4,Nb7,Nxd8,Nxd8,Nxb6,Nf7,Kc4,Ng5,Kc5,Nxf3,d6+,Kd8,Kc6,Nd4+,Kd5,f3,Nc4,Nb3,Kxe5,f2,Ne3,Nc5,Kf4,Kd7,Kf3,Kxd6,Nf5+,Ke6,Kxf2', 'Nxe4+,Ke3,Kxf5', 'https://lichess.org/training/HoG7k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hoGZF', 'Blitz', 'part1392', 1599, 'youns2020', 1884, 'e4,c5,d3,e6,f3,d5,Ne2,Nf6,Nf4,dxe4,fxe4,e5,Ne2,Bg4,Bg5,Be7,h3,Bh5,g4,Bg6,Nbc3,h6,Bxf6,Bxf6,Ng3,Bh4,Qf3,O-O,O-O-O,Nc6,Nd5,Nd4,Qg2,Qg5+,Kb1,Qd8,Nf5,Bxf5,gxf5,Rc8,Rg1,Bf6,c3,Nc6,Rd2,Kh7,Qf3,b5,Rdg2,Rg8,Rg4,b4,Nxf6+,Qxf6,Qg3,bxc3,bxc3,Rb8+,Kc2,a5,Qe3,Qd6,a3,a4,Be2,c4,Rh4,Qxa3', 'Rxg7+,Rxg7,Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/hoGZF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hohgb', 'Classical', 'MRobespierre', 1695, 'nworm', 1693, 'd4,d5,e3,c5,c4,e6,Nf3,dxc4,Bxc4,cxd4,exd4,Bb4+,Nc3,Nf6,a3,Ba5,O-O,O-O,Bg5,Bc7,d5,exd5,Nxd5,Nbd7,Qc2,b6,Nxc7,Qxc7,Rfe1,Ba6', 'Bxf7+,Rxf7,Qxc7', 'https://lichess.org/training/hohgb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HoiEk', 'Classical', 'KoryabkinSergey', 1690, 'SSALIM', 1648, 'e4,c6,Be2,d6,Bg4,Bxg4,Qxg4,Qd7,Qxd7+,Nxd7,Nf3,Ngf6,d3,e5,O-O,Be7,Bg5,h6,Bxf6,Bxf6,Nbd2,O-O-O,c3,g5,Nb3,g4,Nfd2,h5,f3,gxf3,Rxf3,Rdg8,d4,Rh7,dxe5,Bxe5,Nf1,h4,h3,Rhg7,Ne3,f6,Nd4,Rg3,Raf1,c5,Ne2,R3g7,Nf5', 'Rxg2+,Kh1,Rh2#', 'https://lichess.org/training/HoiEk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hoiHZ', 'Classical', 'shaban62', 1641, 'Ara123', 1660, 'd4,d5,c3,g6,f3,h6,Be3,Nf6,Bf2,Bf5,Nd2,g5,g4,Bg6,h4,Qd6,hxg5,Nfd7,e3,a6,Qb3,b5,a4,c6,axb5,cxb5,Bxb5,Qb6,Ba4,Qxb3,Bxb3,e6,c4,Nc6,cxd5,Nb4,dxe6,fxe6,e4,Nd3+,Ke2,Nf4+,Kf1,Bg7,Bc4,hxg5,Rxh8+,Bxh8,Rxa6,Rxa6,Bxa6,Nb6,Bb5+,Ke7,Nb3,e5,d5,Nc8,Be3,Nd6,Ba6,Be8,Ne2,Ba4,Nc5,Bd1,Nxf4,exf4,Kf2,fxe3+,Kxe3,Bxb2,Nd3,Ba3,e5,Nf7,d6+,Kd7,Bb5+,Ke6', 'Bc4+,Kd7,Bxf7', 'https://lichess.org/training/hoiHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hoiyj', 'Rapid', 'leet_chess', 2025, 'ojikoi', 1804, 'd4,d5,Bf4,c6,e3,e6,c3,Nf6,Nf3,Bd6,Bg3,O-O,Bd3,Ne4,Ne5,Bxe5,Bxe5,f5,Nd2,Qh4,Qf3,g5,O-O-O,g4,g3,Qg5,h4,Qh5,Qf4,Nd7,Nxe4', 'fxe4,Qg5+,Qxg5', 'https://lichess.org/training/hoiyj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HoJg8', 'Rapid', 'jagranillo0003', 1892, 'Jbarone', 1899, 'd4,Nf6,c4,g6,Nf3,Bg7,e3,O-O,Be2,c5,O-O,cxd4,Nxd4,Nc6,Nc3,e5,Ndb5,Ne8,Bf3,a6,Nd6,Nxd6,Qxd6,Qe7,Qd1,e4,Nxe4,Ne5,Qe2,Qb4,a3,Nxf3+,gxf3,Qe7,Rb1,d6,Nd2,Bh3,Kh1,Bxf1,Qxf1,Rac8,b3,Rfd8,Bb2,d5,Bxg7,Kxg7,Re1,Qxa3,cxd5,Rxd5,Ra1,Qb4,Ne4,Qxb3,Rb1,Qc2,Kg2,Rcd8,Rxb7,Qc6', 'Qa1+,Kg8,Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/HoJg8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hoktu', 'Blitz', 'NM EDGARDZANETTE', 2270, 'GenkinV', 2244, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,c3,Nc6,O-O,Qb6,a3,a5,b3,Nh6,Nbd2,Be7,Bb2,O-O,h3,Rad8,dxc5,Bxc5,b4,Be7,Nb3,axb4,cxb4,Be4,Qd2,Nf5,Kh1,Qc7,Rac1,Qb8,Qf4,Bxf3,Bxf3,f6,Rfe1,fxe5,Qd2,e4,Bg4,Ne5,Nd4,Nxg4,hxg4,Nxd4,Bxd4,Rf4,Bb6,Rdf8', 'Bc7,Rxf2,Qxf2,Rxf2,Bxb8', 'https://lichess.org/training/hoktu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOKYx', 'Rapid', 'jorgejlrodrigues', 1690, 'ChennaiSuperKing', 1684, 'g3,d5,Bg2,e5,c4,e4,cxd5,Qxd5,Nc3,Qh5,Bxe4,c6,Bf3,Qf5,e4,Qc5,Nge2,Nf6,O-O,Bh3,Na4,Qe5,d4,Qc7,Bf4,Qc8,Re1,Be7,Bxb8,Rxb8,e5,Bb4,Nac3,Nd5,Bxd5,cxd5,Qa4+,Bd7,Qxb4,Be6,Qb5+,Bd7,Qxd5,O-O,Rac1,Bc6,Qc5,Qg4,d5,Bd7,e6,fxe6,Nd4,b6,Qd6,exd5,Qxd5+,Kh8,f3,Qh3,Re7,Rbd8,Nc6,Bxc6,Qxc6,Rd3,Re8,Qf5,Rxf8+,Qxf8,Re1,Rd8,Rd1,Rxd1+,Nxd1,h6,Qb7,Qc5+,Nf2,Qc1+,Kg2,Qxb2,Qxa7,Qd4,Qb8+,Kh7,Ng4,Qd2+,Kh3,Qe1,Qxb6', 'Qf1+,Kh4,g5+,Kh5,Qh3#', 'https://lichess.org/training/hOKYx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOn7E', 'Rapid', 'tash01', 1821, 'neverman', 1619, 'd4,d5,Bf4,e6,e3,Nd7,c3,c5,Bd3,c4,Bc2,h5,h3,Ngf6,Nd2,b6,a3,Bb7,Ngf3,Ne4,Ne5,Nxe5,Bxe5,Nd6,O-O,Bc6,Bg3,h4,Bh2,Be7,f4,O-O,Nf3,Nf5,Qe2,Ng3,Bxg3,hxg3,Ne5,Bb5,Qf3,Bh4,f5,f6,Ng4,e5,dxe5,fxe5,Nxe5,Qd6,Ng6,Bg5,Nxf8,Rxf8,Qxg3,Qxg3,Rf3,Bxe3+,Kh1,Qe5,Re1,d4,cxd4,Qxd4,Rexe3,Qxb2,Be4,Rd8,f6,Rd1+,Kh2,Qe5+,Rg3,c3', 'Bh7+,Kxh7,Rxe5', 'https://lichess.org/training/hOn7E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hopJE', 'Rapid', 'Aldar10', 2090, 'GiovanniPaoloII', 2047, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bf4,Nf6,c3,e6,Bd3,Bxd3,Qxd3,Nc6,Nbd2,Bd6,Bxd6,Qxd6,O-O,O-O,Rfe1,a6,h3,b5,Ne5,Na5,b3,Rac8,Rac1,Rc7,g4,h6,Kg2,Rfc8,Rc2,Qe7,f4,Nb7,h4,Nd6,g5,hxg5,hxg5,Nfe4,Nxe4,Nxe4,Qh3', 'Rxc3,Rxc3,Rxc3', 'https://lichess.org/training/hopJE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HoPWZ', 'Rapid', 'shahrokhs', 1602, 'wooot', 1696, 'e4,c5,Bc4,d6,Nf3,Nf6,d3,a6,h3,e6,g4,b5,e5,bxc4,exf6,Qxf6,dxc4,Be7,Nc3,h6,Ne4,Qg6,Nxd6+,Bxd6,Qxd6,Qe4+,Kf1,Qxf3,Rh2,Bb7,Be3,Nd7,Bxc5,Nxc5,Qxc5,Rd8,Qc7,Rd1+,Rxd1', 'Qxd1#', 'https://lichess.org/training/HoPWZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOqGg', 'Rapid', 'Jdgfcr', 1893, 'denci', 1817, 'd4,Nf6,Bf4,g6,Nf3,Bg7,e3,d6,Bd3,O-O,Nbd2,Nc6,c3,Re8,Bg3,a6,Qc2,e5,dxe5,dxe5,O-O-O,Nd5,Ne4,f5,Bh4,Nce7,Nf6+,Bxf6,Bxf6,Nxf6,Nxe5,Ned5,f4,Nxe3,Qb3+,Be6,Bc4,Nxd1,Bxe6+,Kg7,Rxd1,Qe7,Bd7,Nxd7', 'Rxd7,Qxd7,Nxd7', 'https://lichess.org/training/hOqGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HOS95', 'Rapid', 'society', 1853, 'KilluaZoldyk', 1650, 'd4,Nf6,Bf4,e6,e3,d6,Nf3,Be7,c3,b6,Bd3,Bb7,Nbd2,Nbd7,Qc2,c5,O-O,O-O,Rfe1,cxd4,exd4,Rc8,Be4,Nxe4,Nxe4,h6,Bxd6', 'Bxe4,Qxe4,Bxd6', 'https://lichess.org/training/HOS95');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOSJZ', 'Blitz', 'swordsmankirby', 1595, 'Mohamad88mn', 1595, 'e4,e5,Nf3,Nc6,Bb5,f6,Nc3,Bc5,O-O,Nge7,d3,O-O,Bc4+,Kh8,Re1,f5,Be3,fxe4,dxe4,Nd4,Nxd4,exd4,Bxd4,Bxd4,Qxd4,Nc6,Qe3,d6,Nd5,Ne5,Bb3,c6,Nf4,Qg5,Ne6,Qxe3,Rxe3,Bxe6,Bxe6,Rae8,Bh3,Nc4,Re2,d5,b3,Na3,c4,dxe4,Rae1,b5,Rxe4,Rxe4,Rxe4,Rd8,Bg4,h6,h4,a6,c5,Nc2,Re6,Nd4,Re4,Kh7,f4,Nc2,Bf5+,Kg8,Re6,Nd4,Re5,Nxf5,Rxf5,Rd4,g3,Rd2,Kf1,Rxa2,Re5,Ra3,Re6,Rxb3,Rxc6,a5,Rc8+,Kf7,Ra8,a4,c6,Rc3,Ra7+,Ke6,c7,Kd7,c8=Q+,Kxc8,Ra5,b4,Rxa4,b3,Rb4,Kc7,Ke2,Kc6,Kd2,Rc2+,Kd3,Rc1,Rxb3,Rd1+,Ke2,Rg1,Rc3+,Kd5,Rf3,Ke4,Kf2', 'Rf1+,Kxf1,Kxf3,h5,Kxg3', 'https://lichess.org/training/hOSJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HOSPg', 'Rapid', 'Helix164830', 1808, 'tarikutku', 1755, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bd6,Re1,Nge7,e5,Bb4,Bd2,d5,exd6,Bxd6,Qb3,Bxh2+,Nxh2,Nxd4,Qc3,Be6,Nf3,Nxf3+,gxf3,Bxc4,Qxc4,Qd6,Bb4,Qg6+,Qg4,Qxg4+,fxg4,O-O-O,Bxe7,Rhe8,Nc3,Rd7,Ba3,Kd8,Rxe8+,Kxe8,Re1+,Kd8,Rd1,Rxd1+,Nxd1,c6,Bb2,g6,Bg7,h5,g5,Kd7,Nc3,b5,Kf1,Kd6,Ke2,a5,Kd3,Kc5,Ne4+,Kd5,Nf6+,Kc5,Nd7+,Kd5,Nb8,a4,Kc3,h4,Nd7,h3,Be5', 'Ke6,Kb4,Kxd7', 'https://lichess.org/training/HOSPg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HosTC', 'Rapid', 'Tomislav1969', 1887, 'Xuanzi', 1725, 'g3,d5,Bg2,e5,b3,Nf6,Bb2,Bd6,e3,O-O,Nc3,c6,Nge2,Bd7,O-O,Re8,d4,exd4,Nxd4,Na6,Nf3,h6,Ne2,Nc5,a4,Nce4,Nfd4,Bb4,c3,Ba5,b4,Bc7,a5,Bg4,h3,Bxe2,Qxe2,Nd6,Ba3,Nc4,b5,Bxa5,bxc6,Bxc3,cxb7,Rb8,Nc6,Qb6,Nxb8,Bxa1,Rxa1,Nxa3,Rxa3,Qxb7,Na6,Qc6,Ra2,Ne4,Rc2,Qb6,Bxe4,dxe4,Nc5,a6,Nxa6,Ra8,Nc7', 'Ra1+,Qf1,Rxf1+', 'https://lichess.org/training/HosTC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOTFL', 'Blitz', 'claudiovent63', 1920, 'macmehani', 1898, 'd4,d5,c4,e5,dxe5,d4,Nf3,Bc5,a3,f6,b4,Be7,Qxd4,Qxd4,Nxd4,fxe5,Nf3,Nf6,Bb2,Be6,e3,Nbd7,Ng5,Bf5,Nf3,h6,Nxe5,Nxe5,Bxe5,O-O-O,Nc3,Ne4,Nxe4,Bxe4,f3,Bc2,Bxg7,Rhg8,Bc3,Kb8,Kf2,Bh4+,g3,Bg5,f4,Be7,Bg2,Rd3,Be5,Rd2+,Kf3,Rgd8,Rac1,Ba4,Rhg1,h5,Rge1,Bc6+,e4,R8d3+,Re3,Rd8,f5,Bg5,Re2,R8d3+,Kf2,Rxe2+,Kxe2,Rd2+,Kf1,Be3,Bh1,Rf2+,Ke1,Rxh2,Rc3,Rxh1+,Ke2,Bc1,Rd3,b6,f6,Bxe4,Rd8+,Kb7,f7,Rh2+,Kd1,Bh6,Rd7,Bf3+,Ke1,Bd2+,Kf1,Be3', 'Rxc7+,Ka6,b5+,Ka5,Rxa7#', 'https://lichess.org/training/hOTFL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hou31', 'Rapid', 'Keyrouss', 1763, 'Haddok', 1751, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,h4,Nc6,d5,Ne5,f4,Neg4,e5,dxe5,h5,Qd6,h6,Nxh6,fxe5,Qxe5,Bxh6,Ne4,Bxg7', 'Qg3+,Kf1,Qf2#', 'https://lichess.org/training/Hou31');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HOU8u', 'Rapid', 'LevPiskonov', 1984, 'her01n', 1917, 'd4,d5,c3,Nf6,Bf4,e6,e3,Bd6,Bg5,h6,Bh4,g5,Bg3,Bxg3,hxg3,Nc6,Nf3,Qe7,Nxg5,Bd7,Nd2,O-O-O,Ngf3,Ne4,Nxe4,dxe4,Nd2,f5,Qh5,Qg5,Be2,e5,Qxg5,hxg5,O-O-O,exd4,cxd4,Nb4,a3,Nd3+,Bxd3,exd3,Nf3,g4,Ne5,Bb5,Nxd3', 'Rxh1,Rxh1,Bxd3', 'https://lichess.org/training/HOU8u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('houau', 'Rapid', 'AdVv', 1969, 'phantom355', 1856, 'd4,d5,Nf3,e6,g3,Nf6,Bg2,Be7,O-O,O-O,c4,c5,cxd5,Nxd5,dxc5,Bxc5,Qc2,Bd6,Rd1,Nc6,Nc3,Nxc3,Qxc3,Qe7,a3,f6,b4,Ne5,Bb2,Bd7,Nd4,Rac8,Qb3,Nc4,Bh3,Kh8,Rac1,b5,e4,Be5,f4,Nxb2,Qxb2,Rxc1,Rxc1,Bb8,Qb3,e5,Nc6,Bxc6,Rxc6,exf4,gxf4,Bxf4,Re6,Qc7,Kg2,Bg5,Qd3,h6,Qxb5,Qc2+,Kf3,Qd1+,Qe2,Qd7,Kg2,Qc7,e5,fxe5,Rxe5,Qc6+,Kg1,Qb6+,Kh1,Qd4,Re8,Qa1+,Kg2,Qf6,Rxf8+,Qxf8,Qf3,Qxf3+,Kxf3,Kg8,Ke4,Kf7,Kd5,Ke7,Kc6,Be3,b5,g5,a4,Kd8,a5,h5,Bf5,g4,b6,axb6,axb6,Bxb6,Kxb6,Ke7,h3,g3,Be4,Ke6,Bg2,Ke5,Kc5,Kf4,Kd4,Kf5,Kd3,Kf4,Kd4,h4,Kd3,Kg5,Kd4,Kf6,Kd3,Ke5,Ke3,Kf5,Kf3,Kg5,Bf1,Kh5,Kg2,Kg5,Be2,Kf4,Bg4,Ke3,Bh5,Kd2,Bg4,Ke1,Kf3', 'Kf1,Bf5,g2,Bd3+,Kg1', 'https://lichess.org/training/houau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOuWi', 'Rapid', 'zhano', 1789, 'Mifb', 1779, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,Nf6,Nf3,c6,Bd2,Qc7,Qe2,g6,O-O-O,Bg7,Ne4,Nbd7,Bc3,b5,Nxf6+,Nxf6,d4,O-O,d5,cxd5,Bxf6,Bxf6,Rxd5,Be6,Rxb5,Bxa2,Qd2,Rad8,Bd3,Bc4,Qa5,Qxa5,Rxa5,Bxd3,cxd3,Rxd3,Rxa7,Rc8+,Kb1,Rb3,Ra2,Rcb8,Rd1,Bxb2,Nd2,R3b4,Kc2,Bg7,Kd3,Rd8+,Ke2,Bc3,Nf3,Rxd1,Kxd1,Rb2,Ra8+,Kg7,Rc8,Bf6,Rc2,Rxc2,Kxc2,e5,Kd3,g5,Ke4,h5,Nxe5,Bxe5,Kxe5,f6+,Kf5,Kh6,h3,Kg7,g3,Kf7,f4,gxf4', 'gxf4,h4,Kg4', 'https://lichess.org/training/hOuWi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOvML', 'Blitz', 'Filolog89', 2118, 'Konfuzius07', 2107, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Ng5,h6,N5f3,Bg4,Bd3,e6,c3,Bd6,h3,Bxf3,Nxf3,Nbd7,O-O,Qc7,Re1,O-O,Bd2,Bf4,Bxf4,Qxf4,Qb3,Qc7,Ne5,Rad8,Re3,Rfe8,Rae1,b6,Nxf7,Kxf7,Rxe6,Kf8,Bg6,Rxe6,Qxe6,Nb8,Re5,Rd6', 'Qe8+,Nxe8,Rxe8#', 'https://lichess.org/training/hOvML');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOVnj', 'Classical', 'nirwanda', 1621, 'ARTALES', 1690, 'd4,d5,e3,e6,a3,c5,Nf3,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,Bc5,O-O,O-O,b4,Ba7,Re1,Re8,Bb2,b5,Nf3,e5,e4,Qd6,exd5,Nbd7,Ne4,Qxd5,Nxf6+,Nxf6,Bxh7+', 'Kxh7,Qxd5,Nxd5', 'https://lichess.org/training/hOVnj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HOvVw', 'Bullet', 'kaja24', 2039, 'chocholous64', 1915, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,c5,Bd3,Nc6,Ne2,d6,O-O,Bxc3,bxc3,e5,d5,Na5,Ng3,O-O,Nh5,b6,f4,e4,Nxf6+,Qxf6,Bxe4,Nxc4,Bxh7+,Kxh7,Qd3+,Bf5,Qxc4,Rfe8,Rf3,Re4,Qe2,Qxc3,Bb2,Qb4,Rg3,g6,Rg5,Rxe3', 'Rh5+,gxh5,Qxh5+,Kg8,Qh8#', 'https://lichess.org/training/HOvVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HOW2d', 'Rapid', 'kayoa001', 1601, 'Salamfriend', 1629, 'e4,c5,d4,cxd4,Nf3,Nc6,c3,dxc3,Nxc3,e6,e5,d5,exd6,Bxd6,Nb5,Bb4+,Bd2,a6,Bxb4,Qxd1+,Rxd1,Nxb4,Nc7+,Ke7,Nxa8,Nf6,a3,Nbd5,Ne5,b5,g3,Bb7,Nc7,Nxc7,Bh3,Bxh1,Ke2,Bd5,f4,Rd8,b3,Bxb3', 'Nc6+,Kf8,Rxd8+', 'https://lichess.org/training/HOW2d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hoWjB', 'Rapid', 'cvgvr', 1617, 'amaks', 1616, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Re1,O-O,c3,Bc5,d4,exd4,cxd4,Bb6,Bg5,h6,Bh4,g5,Bg3,d6,e5,dxe5,Nxe5,Nxe5,Bxe5,Ng4,h3,Nxe5,dxe5,Qe7,Qh5,Kg7,Nc3,c6,Rad1,Bf5,Rd6,Bg6,Qf3,Rad8,Red1,Rxd6,exd6,Qd7,Ne4,f5', 'Qc3+,Kh7,Nf6+,Rxf6,Qxf6', 'https://lichess.org/training/hoWjB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOyCd', 'Rapid', 'Gen1962', 1686, 'Londinho', 1680, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Be6,Bxe6,fxe6,O-O,e5,Qd1,Nf6,Nc3,Be7,Bg5,O-O,Qe2,Nd7,Bxe7,Qxe7,Nd5,Qd8,c4,c6,Ne3,Nc5,Ng4,Qg5,b3,h5,Ne3,Nxe4,Rac1,b6,c5,bxc5,Nc4,d5,Na5,Rf6,Nb7,Nxf2,Nxc5,Nh3+,Kh1,Rxf1+,Rxf1,Nf4,Qc2,Rf8,g3,Nh3', 'Rxf8+,Kxf8,Ne6+,Ke7,Nxg5', 'https://lichess.org/training/hOyCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hOyoR', 'Blitz', 'david_h1', 2314, 'IM italian5', 2355, 'c4,e6,Nf3,Nf6,g3,d5,Bg2,b6,O-O,Bb7,d4,Be7,Nc3,O-O,Bf4,dxc4,Qa4,a6,Qxc4,Bd6,Ne5,Bxg2,Kxg2,Nbd7,Nc6,Qe8,Bg5,b5,Qd3,Nc5,Qf3,Ncd7,e4,e5,d5,h6,Be3,Nh7,h4,Nb8,Na5,Nd7,a3,Qc8,Nc6,Nb6,Bxb6,cxb6,Rac1,Qd7,Rc2,Rac8,Qe3,Bc5,Qe2,Qd6,b4,Bd4,Nb1,Rfe8,Nd2,f5,Nb3,fxe4,Qxe4,Nf6,Qf3,e4,Qf5,Be5,Rfc1,Qxd5,Ne7+,Rxe7,Rxc8+,Kf7,Nd2,e3+,Nf3,exf2,Rf1,g6,Qc2,Ng4,Kh3', 'Qxf3,Rf8+,Kxf8', 'https://lichess.org/training/hOyoR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hoYU5', 'Rapid', 'Magdy3006', 1727, 'sitah52', 1776, 'e4,f6,Nf3,e5,Nxe5,fxe5,Qh5+,g6,Qxe5+,Qe7,Qxh8,Qxe4+,Be2,Qxg2,Rf1,Qxh2,Qxg8,Nc6,Qc4,Ne5,Qe4,Be7,Nc3,d6,d3,Nc6,Bf4,Qh4,O-O-O,Bf5,Qf3,O-O-O,Qg3,Qf6,Kb1,Qf7,Bg4,Kb8,Bxf5,Qxf5,Be3,d5,Ne2,d4,Bf4,Qa5,Rh1,Nb4,a3,Nd5,Rxh7,Bxa3,bxa3,Rc8,Qg5,Qb6+,Kc1,Nc3,Nxc3,dxc3,Rd2,Qb2+,Kd1,Qb1+,Ke2,Re8+,Kf3,cxd2,Bxd2,Qd1+,Kg3,Qg1+,Kh3', 'Qh1+,Kg3,Qxh7', 'https://lichess.org/training/hoYU5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hp1y0', 'Rapid', 'Pepecol', 1805, 'glass_half_emtea', 1846, 'd4,Nf6,Bf4,c5,e3,Qb6,Nd2,cxd4,Nb3,dxe3,Bxe3,Qc7,Nf3,e5,Be2,d5,Bg5,Nbd7,O-O,Bd6,Rc1,h6,Bh4,e4,Bg3,exf3,Bxd6,fxe2', 'Qxe2+,Ne4,Bxc7', 'https://lichess.org/training/hp1y0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hp22E', 'Rapid', 'Belaleyenda', 1684, 'COLUMBO_DANS', 1770, 'e4,e5,Nf3,Nc6,c3,d6,Bb5,Bg4,Be2,Be7,d4,h6,O-O,Qd7,d5,Nd8,Nxe5', 'Bxe2,Qxe2,dxe5', 'https://lichess.org/training/hp22E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hp7ma', 'Rapid', 'tsudrez', 1699, 'neronight', 1637, 'd4,e6,c4,c5,d5,Ne7,e4,Ng6,Nf3,Be7,Bd3,e5,O-O,d6,Bd2,O-O,b4,b6,b5,Bg4,a4,Bg5,Bxg5,f6,Qd2,fxg5,Nxg5,h6,h3,Bxh3,Nxh3,Nf4,Nxf4,Rxf4,g3,Qg5,Kg2,Nd7,Qe2,Nf6,Nd2,Nh5,Qe3,Raf8,Be2', 'Rxf2+,Qxf2,Rxf2+', 'https://lichess.org/training/hp7ma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hp7TE', 'Classical', 'gametimer', 1728, 'Bani-mfarij', 1791, 'c4,b6,g3,Bb7,Nf3,e6,Bg2,Nf6,O-O,d5,d4,dxc4,Qa4+,Nbd7,Qxc4,c5,Bg5,h6,Bxf6,Qxf6,Nc3,cxd4,Nxd4,Bxg2,Kxg2,Bc5,Nf3,O-O,Rad1,Ne5,Nxe5,Qxe5,a3,Rac8,Qe4,Qg5,Qb7,Qe7,Rd7,Qf6,Ne4,Qxb2,Nxc5,Rxc5,Rfd1,Qxe2,Qxa7,Ra5,Qxb6,Rxa3,Qb1,Qf3+,Kg1,Rb3,Qc2,Rc3,Qd2,f6,Qa2,Qe4,R7d2,Rfc8,Re2,Qg4,Rxe6', 'Qxd1+,Re1+,Qb3,Qxb3+,Rxb3', 'https://lichess.org/training/hp7TE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpBDg', 'Rapid', 'jomalon', 1697, 'raabik', 1698, 'b3,e5,e4,Bc5,Bb2,d6,Nf3,Bg4,a3,Ne7,b4,Bb6,h3,Bh5,Be2,O-O,d4,Ng6,dxe5,Nf4,exd6,Nxg2+,Kf1,Nf4,Rg1,f6,Bc4+,Kh8,Nbd2,cxd6,Qc1,Bxf3,Nxf3,Nxh3,Rg3,Ng5,Nxg5,fxg5,f3,h6,Rh3,Qc8', 'Rxh6#', 'https://lichess.org/training/hpBDg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpBDq', 'Rapid', 'livio2004', 1752, 'Eliel_123', 1806, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,c5,c3,c4,Qe3,h6,O-O,Ne7,Nbd2,Nf5,Qe2,Be7,b3,b5,a4,bxa4,bxc4,dxc4,Qxc4,O-O,Ne4,Qb6,Qxa4,Nc6,Be3,Qc7,Bd2,Rfb8,g4,Nh4,Nxh4,Bxh4,Rab1,Be7,f4,Na5,f5,Nc4,Bf4,Nb2,Qc2,Nc4,f6,gxf6,Nxf6+,Bxf6,exf6,Rxb1,Bxc7', 'Rxf1+,Kxf1,Ne3+,Ke2,Nxc2', 'https://lichess.org/training/hpBDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hPbNR', 'Classical', 'J8rgen', 2196, 'joanacleto', 2172, 'd4,Nf6,Nc3,d5,Bf4,e6,Nf3,Bd6,e3,O-O,Bd3,b6,Ne5,c5,Nb5,Ne8,c4,cxd4,exd4,dxc4,Be4,Bb4+,Nc3,Nc7,Bxa8,Nxa8,Qf3,Nc7,Rd1,Nd5,O-O,Bb7,Qg3,Qf6,Nxd5,Bxd5,Ng4,Qg6,Bxb8,a6,a3,Be7,f3,Rc8,Rc1,b5,Bd6,Bg5,Bf4,Be7,Ne3,Qxg3,Bxg3,Bb7,Rfd1,Bg5,Kf2,Rd8,Bc7,Rd7,Bb6,h5,Rc3,Bf6,g3,g6,Bc5,Kg7,Rd2,Bg5,h4,Bf6,f4,Ba8,a4,Bb7,a5,Ba8,Ra3,Bb7,b4,Be4,Nd1,Bc6,Nc3,Rd8,Bb6,Rd7,Ke3,Kg8,Ne4,Bxe4,Kxe4,Rd5,Re3,Bg7,Rh2,Kf8,Bc5+,Ke8,Rc2,Kd7,Rec3,Bf6,Rc1,Bg7,R3c2,Bf6,Rc3,Bg7,R1c2,Bf6,Rc1,Bg7,Re3,Bf6,Rg1,Bg7,g4,hxg4,Rxg4', 'f5+,Kf3,fxg4+', 'https://lichess.org/training/hPbNR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hPBvJ', 'Rapid', 'Alververas', 1792, 'cxplus', 1810, 'd4,e6,e4,Bb4+,Bd2,Bxd2+,Qxd2,Nf6,Nc3,O-O,Bd3,Nc6,Nf3,Re8,O-O,e5,dxe5,Nxe5,Nxe5,Rxe5,Qf4,d6,h3,Nh5,Qf3,Qg5,Nd5,c6,Ne3,Nf4,Nc4,Rc5,Nxd6,Bxh3,g3,Bg4', 'Qxf4,Qxf4,gxf4', 'https://lichess.org/training/hPBvJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HpcHN', 'Classical', 'aleandrobrasca', 1691, 'mexican', 1765, 'd4,Nf6,c4,Nc6,Nc3,e5,d5,Na5,e4,Bb4,Bd2,b6,a3,Bxc3,Bxc3,Nxe4,Qc2,Nxc3,Qxc3,d6,b4,Nb7,Bd3,Bg4,h3,Bh5,Ne2,Qg5,O-O,Bf3,Ng3,Bh5,Nxh5,Qxh5,Rae1,O-O-O,a4,a5,bxa5,Nxa5,Rb1,g5,Bf5+,Rd7,Bxd7+,Kxd7,c5,g4,cxb6,cxb6,Rxb6,gxh3,g3,h2+,Kh1,Qe2,Kg2', 'Qxf1+,Kxf1,h1=Q+', 'https://lichess.org/training/HpcHN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HPdac', 'Rapid', 'Tigre41', 2077, 'Beliebig', 1953, 'e4,c5,Nc3,Nc6,Bb5,d6,Bxc6+,bxc6,d3,g6,h3,Bg7,Nf3,Nf6,O-O,O-O,e5,Nd5,exd6,Nxc3,dxe7,Qxe7,bxc3,Bxc3,Bh6,Re8,Rb1,Be6,a4,Ba2,Ra1,Bd5,Rb1,Qf6,Be3,Bxf3,Qxf3,Qxf3,gxf3,Bd4,Rfe1,Rab8,Rb3,Rxb3,cxb3,f5,Rc1', 'Rxe3,fxe3,Bxe3+,Kf1,Bxc1', 'https://lichess.org/training/HPdac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hPf7P', 'Blitz', 'RaihWinnerTewuh', 2160, 'agusjono07', 2061, 'e4,g6,d4,Bg7,h4,d5,e5,c5,c3,Nc6,h5,cxd4,cxd4,Nh6,Be3,Nf5,h6,Bf8,Nf3,Qb6,Qd2,e6,Nc3,Bd7,a3,Na5,Rb1,Rc8,Bd3,Nxe3,fxe3,Nb3,Qc2,Be7,g4,O-O,g5,Rc7,Kf2,Rfc8,Rhf1,Bf8,Kg3,Na5,Kh2,Nc4,Bxc4,Rxc4,Kg3,a6,Nh2,Qd8,Kh4,b5,Qf2,Qe8,Ng4,Be7,Nf6+,Bxf6,Qxf6,Qf8,Rf3,a5,Rbf1,b4,axb4,axb4,Ne2,Be8,Nf4,Rc2,Nxe6,Rh2+,Kg3,Rcc2,Nxf8', 'Rcg2+,Kf4,Rh4#', 'https://lichess.org/training/hPf7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HpfLj', 'Classical', 'PMCCanito', 1981, 'FENER14', 1993, 'e4,e5,f4,d5,fxe5,dxe4,Qe2,Bf5,Nc3,Qd4,d3,Bb4,Bd2,exd3,cxd3,Bxd3,Qxd3,Qxe5+,Be2,Nc6,Nf3,Qd6,Qe3+,Nge7,O-O', 'Bc5,Nb5,Bxe3+', 'https://lichess.org/training/HpfLj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HpGwb', 'Blitz', 'nabilchaar', 1986, 'milenki', 1871, 'e4,e5,Nf3,f5,Bc4,fxe4,Nxe5,d5,Bb3,Qd6,d4,exd3,Nxd3,c5,O-O,c4,Re1+,Ne7,Bf4,Qf6,Ba4+,Nc6,Be5,Qf7,Nb4,Bd7,Nxc6,bxc6,Bd6,Rc8,Bc5,Rc7,Nc3,Be6,Qe2,Kd7,Rad1,Nc8,Bxf8,Rxf8,Nxd5,Bxd5,Rxd5+,Nd6,Qe5', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/HpGwb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpgWY', 'Rapid', 'NickHall69', 1703, 'Grey-Knight', 1708, 'd4,e6,Nc3,d5,e4,c6,Bf4,Bd6,e5,Bb4,Qd3,Qa5,a3,Be7,O-O-O,Nd7,Bd2,Qc7,f4,Nb6,g4,Nc4,Qf3,b5,Bxc4,bxc4,f5,Qb6,fxe6,Bxe6,Nge2,Rb8,Na4,Qb5,Nec3,Qb7,g5,Kd7,h4,g6,h5,Rf8,hxg6,fxg6,Qg3,Bf5,Rhf1,Ke6,Rde1,h6,gxh6,Nxh6,Bg5,Ng4,Bxe7,Qxe7,Nc5+,Kf7,Qxg4,Ke8,Qg3,Rh3,Qg2,Rfh8,Rg1,Rh2,Qg5,Rxc2+,Kd1,Qxg5,Rxg5,Rxb2,Re2,Rh1+,Re1,Rh3,N5a4,Rb3,Rgg1,Rxa3,Rh1,Rd3+,Kc1,a5,Rh8+,Ke7,Reh1,Rxd4', 'R1h7+,Ke6,Re8#', 'https://lichess.org/training/hpgWY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpI8q', 'Classical', 'tyranny101', 1805, 'Heartwired', 1831, 'd4,c5,dxc5,Nc6,e4,e5,Be3,Qa5+,c3,Nf6,b4,Nxb4,cxb4,Qxb4+,Nd2,Nxe4,Rb1,Qa5,Nf3,Nc3,Nc4,Qxa2,Qb3', 'Qxb1+,Qxb1,Nxb1', 'https://lichess.org/training/hpI8q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hpj0t', 'Blitz', 'CM akhairat', 2303, 'french_ftw', 2394, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Be7,Be2,b6,O-O,f5,Kh1,cxd4,Nxd4,Nxd4,Bxd4,a5,Rf3,Ba6,Bxa6,Rxa6,Rg3,O-O,Nb5,Nc5,Bxc5,bxc5,a4,Rb6,Qh5,Kh8,Rh3,h6,Qg6,Qe8', 'Rxh6+,gxh6,Qxh6+', 'https://lichess.org/training/Hpj0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpj6P', 'Rapid', 'IsThisBackgammon', 1818, 'ViktorChmel', 1838, 'd4,d5,c4,c6,Nc3,Nf6,g3,e6,Bg2,dxc4,Nf3,b5,a4,b4,Nb1,Bb7,Bg5,Be7,O-O,O-O,Qc2,Qd5,e3,b3,Qe2,Qd8,Ne5,h6,Bxf6,Bxf6,Nxc4,Nd7,Nd6,Qb6,Rc1,Rab8,Nxb7,Rxb7,Rxc6,Qd8,Nc3,Rc7,Nb5,Rxc6,Bxc6,a6,Nc3,Nb8,Qf3,Qb6,d5,Bxc3,bxc3,Rc8,a5,Qc5,Rb1,Qxc3,Bb7,Rc7,d6,Rc5,Qd1,Rb5,d7,Nxd7,Qxd7,b2,Qe8+,Kh7,Be4+,f5,Bc6,Qc1+,Rxc1,bxc1=Q+,Kg2,Rxa5,Qxe6,Rc5,Be8,Qc3', 'Bg6+,Kh8,Qe8#', 'https://lichess.org/training/hpj6P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HPJmW', 'Blitz', 'NM Z__chess', 1954, 'mahdi5076', 1976, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,Bf5,d4,e6,O-O,c6,Qe2,Be7,Rd1,Nbd7,Nh4,Bg6,Bf4,Nd5,Nxg6,hxg6,Bg3,Nxc3,bxc3,Nf6,Bd3,Bd6,d5,cxd5,Bb5+,Kf8,c4,Bxg3,hxg3,Qb6,Ba4,dxc4,Qxc4,Qa5,Rab1,Qh5,f3,Nd5,Rxb7', 'Qh1+,Kf2,Qxd1', 'https://lichess.org/training/HPJmW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HPJPc', 'Rapid', 'mehrshad101', 1875, 'torosentado', 1900, 'd4,Nf6,c4,e6,Nc3,c6,Nf3,d5,Bg5,Be7,e3,O-O,cxd5,exd5,Bd3,Ng4,Bxe7,Qxe7,Bc2,Nd7,Qd3,Ndf6,h3,Nh6,O-O-O,Bf5,Qd2,Bxc2,Qxc2,Ne4,Nxe4,dxe4,Nd2,f5,g4,c5,gxf5,cxd4,Nxe4,Rac8,Nc3,dxc3,bxc3,Nxf5,Rd3,Qa3+,Kb1,Rc6,Ka1,Rfc8,Rhd1,Rxc3', 'Rd8+,Qf8,Rxf8+', 'https://lichess.org/training/HPJPc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HPjtY', 'Rapid', 'higurashi', 1953, 'kra22', 1717, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,Qa5+,N1c3,Nf6,Bd2,Bc5,Nd5,Qd8,Nbc7+,Kf8,Nxa8,Nxe4,Be3,Bxe3,Nxe3,Qh4,Qf3', 'Nd4,Qxe4,Qxe4', 'https://lichess.org/training/HPjtY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpK9N', 'Blitz', 'LuVill', 1885, 'AtharvMonu12', 1948, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Nf6,Re1,Be7,d4,exd4,Nxd4,Bd7,Bg5,O-O,Nc3,h6,Bh4,c5,Nf5,Bxf5,exf5,Re8,Qf3,Qd7,Re2,c6,Rae1,d5,h3,d4,Ne4,Nxe4,Rxe4', 'Bxh4,Rxe8+,Rxe8,Rxe8+,Qxe8', 'https://lichess.org/training/hpK9N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HPm6L', 'Classical', 'Dinosan', 1758, 'Mojtaba_Haghshenas', 1811, 'd4,Nf6,Nf3,d5,Bf4,Nc6,e3,Bg4,c3,a6,Bd3,e6,Nbd2,Bd6,Bg3,Ne7,Qc2,Ng6,Ne5,O-O,Ndf3,Bxf3,gxf3,Nh5,O-O-O,Bxe5,Bxe5,Nxe5,Bxh7+,Kh8,dxe5,g6,Bxg6,fxg6,Qxg6,Ng7,Rhg1,Qe7,Rg4,Rxf3,Rdg1,Rf7,R4g3,Nf5,Rh3+,Rh7,Rxh7+,Qxh7,Qxe6,c6', 'Qf6+,Qg7,Rxg7', 'https://lichess.org/training/HPm6L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpnod', 'Rapid', 'anatoly65', 1812, 'pversc', 1813, 'd4,f5,Bf4,e6,Nf3,b6,e3,Bb7,c3,Nf6,Be2,Bd6,Bxd6,cxd6,Nbd2,O-O,O-O,Nc6,Re1,Ne7,Bd3,Qc7,e4,fxe4,Nxe4,Ng6,Qe2,Nf4,Qe3,Nxd3,Nxf6+,Rxf6,Qxd3,Raf8,Re3,Rh6,Rae1,Qd8,c4,Qf6,d5,e5,Qe4,Ba6,b3,b5,Qg4,bxc4,bxc4,Rg6,Qe4,Qf5,Rc1', 'Qxe4,Rxe4,Rxf3', 'https://lichess.org/training/hpnod');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HPNq0', 'Blitz', 'retrooograd', 1537, 'Sir_Racha', 1540, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,g6,Bf4,Bg7,e3,Bf5,Bd3,Bg4,h3,Bc8,h4,e6,c5,Nbd7,Ne5,O-O,h5,Nxh5,g4,Nxf4,exf4,Nxe5,fxe5,Qg5,Qd2,Qxg4,Be2,Qf5,O-O-O,h6,Rdg1,Qxf2,Nd1,Qf5,Bd3,Qf3,Be2,Qe4,Nf2,Qf5,Bg4,Qg5,Qxg5,hxg5,Rh2,b6,Rgh1,f6,Nh3,Kf7,exf6,Bxf6,Rf1,bxc5,Nxg5+,Kg7,Rh7+,Kg8,Rfh1,Bxg5+,Kc2,Rf2+,Kb3,Rb8+,Ka3,Rfxb2', 'Rh8+,Kf7,R1h7+,Kf6,Rf8#', 'https://lichess.org/training/HPNq0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hPNTq', 'Rapid', 'krime', 1760, 'almio2', 1843, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,a6,Ba4,b5,Bb3,Na5,O-O,Nxb3,axb3,Nf6,Nc3,Bf5,Bg5,Ne4,Nxe4,Bxe4,Re1,h6,Bh4,Qc7,Rc1,e6,c4,Qb7,cxd5,Bxd5,Ne5,Bxg2,f3,Bh3,Bg3,Bd6,Qd3,O-O,Re4,Bf5,Rc2,Bxe4,fxe4,Rac8,Rg2,Rc1+,Kf2,Bxe5,Bxe5,f6,Bf4,Kh7,Bxc1,Rc8,Bd2,Qf7,Rg3,Qh5,Kg2,Qd1,e5+,f5,Re3,Rc2,Re2,Rxb2,Kf2,Qh1,Qg3,Qd1,Qf4,Rxb3,d5,Qc2,dxe6,a5,e7,Qc5+,Be3,Qxe7,Qxf5+,Kg8,e6,Qh4+,Kf3,Qxh2,e7,Qh1+,Kf4,Qf1+,Rf2,Qc4+,Kf3,Qc6+,Ke2,Rb2+,Kf1', 'Qh1#', 'https://lichess.org/training/hPNTq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpPiR', 'Blitz', 'gambinatonic', 1732, 'j_ralph', 1733, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,cxd5,exd5,e3,c6,Nc3,O-O,Qc2,Bg4,Bd3,Bxf3,gxf3,Nbd7,h4,a5,h5,b5,h6,g6,f4,b4,Na4,Rb8,f5,Rc8,fxg6,fxg6,Bxg6,hxg6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/hpPiR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HPt5K', 'Blitz', 'YourFavouritePizza', 1708, 'JF91', 1740, 'd4,f5,Nc3,d5,Bf4,a6,e3,Nf6,Nf3,h6,Be2,g5,Be5,Rg8,Bxf6,exf6,O-O,Bd6,h3,Be6,Nd2,Qd7,f4,Nc6,Na4,O-O-O,Nc5,Qf7,c4,Rg7,Rc1,Rdg8,cxd5,Bxd5,Nxa6,gxf4,Bf3,fxe3,Nb3,Rg3,Rc2,Rxh3,Bxd5,Qxd5,Qe2,Nxd4,Nxd4,Qe5,Nf3,Rxf3,Rxf3', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/HPt5K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HpUzA', 'Rapid', 'reisunga', 1718, 'doapsdao', 1613, 'd4,d5,c4,dxc4,e4,Nc6,d5,Ne5,Bf4,Nd3+,Bxd3,cxd3,Qxd3,Nf6,h3,e6,Bg5,exd5,Bxf6,Qxf6,Nc3,dxe4,Qxe4+,Be6,Qxb7,Qe5+,Qe4,Qxe4+,Nxe4,Bd5,f3,Bb4+,Nc3,O-O,Ne2,Rae8,a3', 'Bxc3+,bxc3,Bc4', 'https://lichess.org/training/HpUzA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpVgG', 'Rapid', 'CeperaKupoB', 1847, 'surajverma', 1838, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,h3,Nf6,Re1,O-O,c3,d5,exd5,Nxd5,d4,Bb6,dxe5,Be6,Qd3,Na5,Ng5,g6,b4,Nxc4,Qxc4,Qe7,Qh4,f6,exf6,Qxf6,Rxe6', 'Bxf2+,Kh2,Bxh4', 'https://lichess.org/training/hpVgG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HPVO3', 'Blitz', 'diogojuy', 1857, 'Khalid_SAADAOUI', 1890, 'e3,e5,Ne2,Nf6,Ng3,d5,Be2,Nc6,c3,Be6,d3,a6,a3,Bd6,Nd2,O-O,e4,d4,c4,Nd7,b4,f5,exf5,Bxf5,Nxf5,Rxf5,Ne4,Be7,Bg4,Rf8,Be6+,Kh8,O-O,Nf6,Ng3,Qd6,Bf5,Rad8,Be4,Nxe4,Nxe4,Qg6,Ra2,Rf7,f4,exf4,Rxf4,Rdf8,Rxf7,Qxf7,Rf2,Qe8,Qg4,Rxf2,Nxf2,Bd6,Ne4,Ne5,Qe2,h6,h3,Qg6,Bb2,b6,Bxd4,Nc6,Bc3,Qe6,Qf3,Be5,d4,Bxd4+,Bxd4,Nxd4,Qd3,Nf5,c5,bxc5,Nxc5,Qe1+,Kh2,Qe5+,Kh1,Qe1+,Kh2,Qe5+,Kg1,Qe1+,Qf1,Qe3+,Kh2,Qg3+,Kg1,Ne3,Qf8+,Kh7,Qf3', 'Qe1+,Kh2,Nf1+,Qxf1,Qxf1', 'https://lichess.org/training/HPVO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hPwTy', 'Rapid', 'xRocky69', 1764, 'nursinghalo', 1739, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Be7,Be2,Nbd7,Bg5,Nf8,O-O,Ne6,Bh4,c6,Bg3,Bd6,Ne5,Qb6,h3,Qxd4,Qxd4,Nxd4,Bd3,O-O,Rad1,Bf5,Nd7,Nxd7,Bxd6,Rfe8,Rfe1,Bxd3,cxd3,Nf6,Bc5,Ne6,Bd6,Rad8,Bg3,Rd7,Ne2,Nc5,Nf4,Rde7,Rxe7,Rxe7,f3,Re3', 'Bf2,Re8,Bxc5', 'https://lichess.org/training/hPwTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HpxBA', 'Blitz', 'skacool', 1617, 'zaos', 1563, 'd4,d5,e3,e6,h3,Nf6,Nf3,Bd6,a3,Nbd7,c4,c5,dxc5,Bxc5,b4,Bb6,c5,Bc7,Bb2,O-O,Bb5,a5,c6,Nb8,Ba4,bxc6,b5,cxb5,Bxb5,Ba6,a4,Nbd7,O-O,Bxb5,axb5,Nb6,Bd4,Nc4,Na3,Nxa3,Rxa3,Qd6,Ra1,Nd7,Qb1,e5,b6,Bb8,b7,Ra6,Bxe5,Nxe5,Nxe5,Qxe5,Rc1,d4,Rc8,Qh2+,Kf1,Qh1+,Ke2,Qxg2,Qd3,dxe3', 'Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/HpxBA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpxWy', 'Rapid', 'stoneyy', 1664, 'LatteTonic', 1749, 'd4,Nf6,Nc3,d5,e4,dxe4,f3,Nc6,Be3,e5,dxe5,Qxd1+,Rxd1,Nxe5,Nb5,Bb4+,c3,Ba5,b4,Bb6', 'Bxb6,cxb6,Nc7+,Ke7,Nxa8', 'https://lichess.org/training/hpxWy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpyCF', 'Rapid', 'amr_nagar', 1756, 'xx88', 1848, 'e3,d6,b3,Nf6,g3,g6,Bb2,Bg7,Bg2,O-O,Ne2,c5,c4,Nc6,O-O,Bg4,Qe1,Qd7,Nf4,Rac8,d3,Ne5,Nd2,g5,f3,gxf4,fxg4,Nxd3,Qb1,Nxb2,Qxb2,Nxg4,Qc1,Nxe3,Rxf4,Nxg2,Kxg2,Bxa1,Qxa1,e5,Rh4,Qf5,Qd1,Qd3,Qg4+,Qg6,Qh3,f5,Nf3,Qg4', 'Rxg4+,fxg4,Qxg4+', 'https://lichess.org/training/hpyCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpzIB', 'Blitz', 'ElBandoleroStanco', 1772, 'ARAG31', 1808, 'g4,d5,Bg2,c5,c4,d4,e3,Nc6,exd4,Nxd4,d3,e5,h3,Ne7,Ne2,Nec6,Nxd4,exd4,Qe2+,Qe7,Qxe7+,Bxe7,Nd2,Ne5,Be4,Bh4,Nf3,Nxf3+,Bxf3,O-O,O-O,Rb8,Bf4,Ra8,Bd6,Re8,Bxc5,Bf6,Rfe1,Rxe1+,Rxe1,Bd7,b4,Bc6,Bxc6,bxc6,a4,a6,Re4,h6,Bxd4,a5,Bxf6,gxf6,bxa5,Rxa5,Rd4,Rxa4,Kg2,Kf8,Kg3,Ke7,f4,Ra5,h4,Ke6,Re4+,Kd6,d4,Ra3+,Kf2,Rh3,h5,Rh4,Kg3,Rh1,Re8,Rd1,Rd8+,Ke7,Rh8,Rd3+,Kh4,Rxd4,Rxh6,Rxf4,Rh8,Rxc4,h6,f5,h7,Rxg4+,Kh3,Rg7', 'Re8+,Kxe8,h8=Q+,Rg8,Qxg8+', 'https://lichess.org/training/hpzIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hpztn', 'Blitz', 'tamik', 2492, 'ElDek', 2438, 'c4,c5,Nf3,Nc6,Nc3,g6,e3,Bg7,d4,b6,d5,Na5,e4,d6,Bd2,Ba6,a3,Nf6,b4,Nxc4,Qa4+,Kf8,Qxa6,Nxd2,Nxd2,Nxd5,exd5,Bxc3,Rc1,cxb4,axb4,Bxb4,Qc4,a5,Qd4,f6,Be2,Kg7,O-O,Qd7,Bg4,Qb7,Nf3,Bc5,Qa1,h6,Rfe1,Rhe8,Qb1,Qxd5,Bd7,e5,Bxe8,Rxe8,h4,b5,h5,e4,hxg6,e3,fxe3,Rxe3,Kf1', 'Rxf3+,gxf3,Qxf3#', 'https://lichess.org/training/hpztn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hq0NT', 'Rapid', 'Alfa-Echo', 1709, 'RUNDSKOP', 1752, 'e4,b6,d4,Bb7,d5,e6,c4,c5,e5,Ne7,d6,Ng6,f4,Nh4,Nf3,Nf5,Be2,f6,O-O,Nc6,Nc3,Nfd4,Nxd4,Nxd4,Be3,Nxe2+,Qxe2,a6,a3,Bc6,b4,cxb4,axb4,g6,b5,axb5,cxb5,Bb7,Na4,Bh6,Bxb6,Qb8,Bc7,Qa7+,b6,Qa5,exf6,O-O,Qg4,Rxf6,Nb2,Qc5+,Kh1,Rxa1,Rxa1,Rxf4,Qd1,Rf2,Nd3,Bxg2+,Kg1,Qg5,Nxf2,Bf3+,Kf1,Bxd1,Rxd1,Qb5+,Ke1,Be3,Ne4,Qb4+,Nd2,Bxb6,Ke2,Qc5,Ne4,Qc4+,Rd3,Bxc7,dxc7,Qxc7,Nf6+,Kg7', 'Ne8+,Kf8,Nxc7', 'https://lichess.org/training/hq0NT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hq1Z7', 'Classical', 'Caribia', 1807, 'yessimus', 1838, 'e4,c5,Bc4,e6,a3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Ngf6,d3,Be7,Bg5,O-O,c3,Re8,O-O,h6,Bxf6,Bxf6,Nbd2,Qb6,Rb1,Qc7,Qc2,Re6,Rfe1,Rae8,Rxe6,Rxe6,Re1,Rxe1+,Nxe1,Ne5,Ndf3,Ng6,Qe2,Qe7,Qxe7,Nxe7,d4,cxd4,cxd4,Nc6,Nc2,Na5,b4,Nc4,b5,a6,bxa6,bxa6,Kf1,a5,Ke2,Kf8,Ne3,Nxa3,Nxd5,Bd8,Nc3,Bf6,Kd3,Ke7,Nd2,Kd6,Ndb1,Nxb1,Nxb1,Kc6,Kc4,g5,g4,Be7,Nc3,Bb4,Na4,Be1,f3,Bb4,h3,f6,Nb2,Kd6,Na4,Ke6,Kd3,Kd5,Nb6+,Kc6,Na4', 'Kb5,Nb2,a4', 'https://lichess.org/training/Hq1Z7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hq2w4', 'Blitz', 'Fischer95', 1856, 'EdsonCassinda', 1882, 'e4,g6,d4,e6,h4,Bg7,h5,Ne7,h6,Bf8,e5,d5,Nf3,c5,c3,c4,Bg5,Qc7,Nbd2,Nbc6,Be2,Rg8,g4,Bd7,Nf1,O-O-O,b3,cxb3,axb3,Kb8,N1d2,Rc8,O-O,Ka8,b4,Rb8,Nb3,b6,b5,Nd8,Ra6,Nc8,Bd2,Be7,Qa1,f6,Rc1,f5,c4,fxg4,cxd5,Qb7,d6,gxf3,dxe7,fxe2,exd8=Q,Rxd8,Be3,Bxb5,Ra2,Qf3,Nc5,Qg4+,Kh2,Bc6', 'Rxa7+,Nxa7,Qxa7+,Kxa7,Ra1+,Ba4,Rxa4#', 'https://lichess.org/training/Hq2w4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hq46E', 'Rapid', 'Cartesian', 1882, 'Valeriii', 1635, 'e4,h5,d4,g6,Bc4,Bg7,Nf3,e6,O-O,d6,Bg5,Ne7,Nc3,Nd7,Qd2,O-O,Bh6,b6,Bxg7,Kxg7,e5,d5,Bd3,Nf5,Bxf5,exf5,Nxd5,Bb7,c4,a5,Rfe1,Bxd5,cxd5,Nb8,e6,Qxd5,e7,Re8,Re5,Qd6,Nh4,Nc6,Qg5,Nxe5', 'Nxf5+,Kg8,Nxd6,Nf3+,gxf3', 'https://lichess.org/training/Hq46E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HqAGc', 'Blitz', 'Nsk-elektrik', 1549, 'el_kirk', 1630, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,e5,Nd5,Bc4,Bc5,d4,Bb6,O-O,O-O,Nc3,Nxc3,bxc3,Be6,Bb3,Bd5,Qg4,Kh8,Kh1,c5,Be3,c4,Ba4,c6,Rab1,Rb8,f4,Bc7,f5,b5,f6,g6,Qh4,bxa4,Rxb8,Qxb8,Qh6,Rg8,Rf4,Qb1+,Bg1,Qxc2', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/HqAGc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hqAJY', 'Rapid', 'madmoe', 1896, 'MortalConfucius', 1915, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nc6,g4,Nxd4,Rxd4,b5,Bg2,Bb7,Qe2,Rc8,Rhd1,e5,Bxf6,gxf6,Nd5,Bxd5,Rxd5,O-O,h4,Kh8,g5,fxg5,hxg5,exf4,Rh1,Rg8', 'Rxh7+,Kxh7,Qh5+,Kg7,Qh6#', 'https://lichess.org/training/hqAJY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HQApE', 'Rapid', 'pasjohn', 1850, 'Rndrps', 1979, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Nc6,Be2,Nf6,O-O,Bb4,Nxc6,bxc6,Bf3,d5,exd5,cxd5,a3,Bxc3,bxc3,O-O,c4,Bb7,Bg5,Rb8,Bxf6,Qxf6,cxd5,Rfd8,c4,exd5,cxd5,Rd6,Qb3,Qd8,Rab1,g6,h3,h5,Rfd1,a5,Qc4,Ba6,Qa2,Rxb1,Qxb1,Bc4,Qe4,Bb3,Rd2,a4,Qd4,Qd7,Bd1', 'Rxd5,Qxd5,Bxd5', 'https://lichess.org/training/HQApE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HQAYl', 'Rapid', 'vvm2009', 1834, 'Ganiev2', 1754, 'd4,d5,e4,dxe4,f3,exf3,Nxf3,Nf6,Bc4,Bf5,Bxf7+,Kxf7,Ne5+,Kg8,O-O,Be4,a3,Nbd7,Bf4,Nd5,c4,Nxf4,Rxf4,Bxb1,Nf7,Qe8,Rxb1,Nf6,Nxh8,Kxh8,b4,Rd8,Qd3,e5,Rxf6,gxf6,d5,c6,Rd1,e4,Qd4,Qg6,Qxa7,Qg5,Qxb7,Qe3+,Kh1,Qe2,Rg1,cxd5,cxd5,e3,Qf7,Bg7,Qe6,Qd3,Re1,h6,Rxe3', 'Qf1#', 'https://lichess.org/training/HQAYl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HQb9b', 'Blitz', 'lastcall123', 1908, 'TheUnknownPlayer1', 1911, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,h3,b5,Bb3,Be7,d4,exd4,c3,dxc3,Nxc3,O-O,Re1,Be6,Nd5,a5,Ng5,a4,Nxe6,fxe6,Nf4,axb3,Nxe6,Qd7,Qxb3,Rf7,Ng5,Bf8,Be3,Ne5,f4,Nc4,Nxf7,Qxf7,Bd4,c6,Rad1,Nh5,e5,Nxf4,e6,Nxe6,Rf1,Nxd4,Rxd4,Qa7,Rd1,d5,Kh1,Qxa2,Qf3,Qxb2,Rf1,Qxd4', 'Qf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/HQb9b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HqbT6', 'Rapid', 'sah40sah', 1992, 'Agapitofestero', 1991, 'e4,e5,Nf3,Nc6,c4,Bc5,d3,Nf6,Be2,O-O,O-O,d5,cxd5,Nd4,Nxd4,Bxd4,Nc3,c6,dxc6,bxc6,Bg5,h6,Bh4,g5,Bg3,Be6,a3,Qd7,Rc1,Rac8,Qd2,Bg4,Kh1,Nh5,Na4,f5,exf5,Qxf5,Nc5,Nf4,Bxf4,gxf4,Ne4', 'f3,Bxf3,Bxf3', 'https://lichess.org/training/HqbT6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hQckG', 'Classical', 'MadeiraSun', 1540, 'BrianFoster', 1853, 'e4,c5,Nf3,d6,Bc4,Nc6,c3,Nf6,Ng5,e6,d4,h6,d5,hxg5,dxc6,Nxe4,f3,Ng3,cxb7,Bxb7,Bb5+,Ke7,Rg1,Rxh2', 'Bxg5+,f6,Bf4,Rh1,Rxh1', 'https://lichess.org/training/hQckG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HQEP0', 'Blitz', 'CM papasi', 2547, 'CM DrBendeguz', 1956, 'e4,Nc6,d4,e5,d5,Nce7,Be3,Ng6,f3,Bb4+,c3,Ba5,Nd2,Bb6,Bxb6,axb6,Bb5,Nf6,Ne2,O-O,O-O,c6,Bc4,b5,Bb3,Qb6+,Kh1,cxd5,exd5,d6,Ne4,Nh5,Bc2,Nhf4,Ng1,f5,Ng5,h6,N5h3,Qc5,Qd2,Qxd5', 'Bb3,Be6,Bxd5', 'https://lichess.org/training/HQEP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hqePV', 'Blitz', 'KamoTekyo', 2244, 'Jiggy_Miguel_Vicente', 2391, 'd4,f5,Nc3,Nf6,Bg5,c6,Bxf6,exf6,e4,fxe4,Nxe4,d5,Ng3,Bd6,Qh5+,g6,Qh6,Qe7+,Kd2,Qf8,Re1+,Kf7,Qh4,h5,f4,Qh6,N3e2,g5,Qf2,gxf4,Nf3,h4,Kc1,Bf5,Nc3,Nd7,Kb1,Nb6,Rd1,Rae8,Bd3,Bxd3,Rxd3,Nc4,b3,Ne3,h3,Nf5,Nh2,Ng3,Ng4,Qh7,Re1,Rxe1+,Qxe1,Re8', 'Qxe8+,Kxe8,Nxf6+,Kf7,Nxh7', 'https://lichess.org/training/hqePV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hqfoC', 'Classical', 'UnLuckyNiko', 1892, 'rasfalt', 1811, 'd4,Nf6,Bf4,e6,e3,c5,c3,cxd4,exd4,b6,Nf3,Bb7,Nbd2,Be7,Bd3,O-O,h3,d6,O-O,Nbd7,Qe2,a6,Rac1,Re8,Ng5,Bf8,Nde4,h6,Nxf6+,Qxf6,Ne4,Qxf4,g3,Qf5,Nxd6,Qf3,Qxf3,Bxf3,Nxe8,Rxe8,Bxa6,Ra8,Bb5,Nf6,a4,Nd5,Ra1,Bd6,Rfe1,Kf8,Bf1,Ke7,Bg2,Bxg2,Kxg2,Kd7,f4,f5,h4,h5,Kf3,Nf6,Re3,Ng4,Rd3,Nh2+,Ke2,Ng4,b4,Kc6,a5,bxa5,bxa5,Kb5,a6,Rxa6', 'c4+,Kxc4,Rxa6', 'https://lichess.org/training/hqfoC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hQFwB', 'Classical', 'LaSiciliana', 1685, 'kvnrh', 1675, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,a3,d6,b4,Bb6,h3,a6,O-O,Nd4,Nd5,Nxd5,Bxd5,c6,Ba2,O-O,c3,Ne6,d3,h6,Be3,Bxe3,fxe3,Qb6,Kf2,Nf4,d4,Ng6,Ke2,exd4,Qxd4,c5,Qd3,Bd7,Rab1,Qd8,Kd2,b5,Ke2,a5,Qxd6,cxb4,Qxg6,bxc3,Bd5,Rc8,Ne5,Be6,Bxe6,fxe6,Qxe6+,Kh7,Rxf8', 'Qd2+,Kf3,Rxf8+', 'https://lichess.org/training/hQFwB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hQgq7', 'Rapid', 'Signoretomato', 1786, 'SemyONN', 2028, 'e4,c5,f4,e6,Nf3,Nc6,Bb5,g6,Bxc6,bxc6,Nc3,Bg7,O-O,Ne7,d3,Rb8,e5,d5,exd6,Qxd6,Ne4,Qd5,c4,Qd8,Rb1,Nf5,b3,Rb7,Nxc5', 'Bd4+,Nxd4,Qxd4+,Rf2,Qxc5', 'https://lichess.org/training/hQgq7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HqIoR', 'Blitz', 'ozcandemirba-arcelik', 1875, 'JaTal', 1851, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Bd6,d3,Ne7,Bg5,O-O,Nbd2,f6,Be3,Ng6,Nc4,Bb4+,Bd2,Bxd2+,Qxd2,Nf4,O-O-O,b5,Ne3,a5,g3,Ne6,Nf5,c5,g4,Nd4,N3xd4,cxd4,g5,fxg5,Rhg1,Bxf5,exf5,Rxf5,Rg4,h6,Rdg1,Rf7,h4,Kf8,hxg5,h5,g6,hxg4,gxf7,Kxf7,Rxg4,Qf6,Qe2,Rh8,b3,Rh1+,Kb2,Rh2,Qe4,Rxf2,Qd5+,Qe6', 'Rxg7+,Kf6,Rg6+,Kxg6,Qxe6+', 'https://lichess.org/training/HqIoR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HQK5I', 'Rapid', 'Pisarenko_Oleg', 2224, 'Danila712', 1835, 'd4,d5,Nf3,Nf6,Bf4,c6,e3,e6,Nbd2,Bd6,Bg5,h6,Bh4,c5,dxc5,Bxc5,Nb3,Be7,c4,O-O,Be2,Bb4+,Nbd2,dxc4,O-O,b5,Qc2,Bb7,Rfd1,Qe7,a3,Bc5,Ne5,Nbd7,Nxd7,Qxd7,Nxc4,Qe7,Na5,Bd5,Bxf6,gxf6,e4,Rac8,Qd3,Ba8,Nb3,a6,Rac1,Bb6,Bf3,Rfd8,Qe2,Rxc1,Rxc1,e5,g3,Qe6,Nd2,Qd6,Nf1,Kg7,Ne3,Qd3,Nf5+,Kh7,Qxd3,Rxd3,Kg2,Rd2,Rf1,Rxb2,Nd6,Kg6,h4,h5,g4,hxg4,Bxg4,Rd2,Nc8,Bxe4+,Kg3,Bd4,f3,Bf5,Ne7+,Kg7,Nxf5+,Kf8,h5,Kg8,h6,Rc2,Nxd4,exd4,h7+,Kh8,Re1,Rc5,Rh1,d3,Kf4,d2,Ke3', 'Rc1,Kxd2,Rxh1', 'https://lichess.org/training/HQK5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hqk6r', 'Blitz', 'MiFoLoDgY', 2080, 'King_of_the_Kings', 1965, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,g6,Nc3,Bg7,Be3,Nf6,f3,O-O,Nb3,d6,Qd2,a6,O-O-O,b5,Bh6,Ne5,Kb1,Nc4,Bxc4,bxc4,Nd4,Rb8,Nc6,Qb6,Nxb8,Be6,Bxg7,Kxg7,Nd5,Bxd5,exd5,Rxb8,Qc3,Kg8,g4,Qc5,Qd4,Qb4,g5,Nxd5,Rhe1,Qb5,Kc1,Nb4,a3,Qxg5+,f4,Na2+,Kb1,Qg2,Kxa2,Qxc2,Rxe7,c3,Rb1', 'Rxb2+,Ka1,Qxb1#', 'https://lichess.org/training/hqk6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hQkDa', 'Rapid', 'Jreed1', 1776, 'ser2282', 1753, 'Nf3,d5,g3,e6,b3,Be7,Bb2,Nf6,Bg2,O-O,O-O,a6,d3,b5,Nbd2,c6,e4,dxe4,Nxe4,Bb7,Re1,Nxe4,dxe4,Qc7,Qd4,Bf6,e5,c5,Qd6', 'Qxd6,exd6,Bxb2', 'https://lichess.org/training/hQkDa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hqKn8', 'Rapid', 'Trainerself', 1986, 'kvv5454', 2096, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,Nxd4,Ne5,Bb3,d5,exd5,Nf6,c4,O-O,O-O,Bc5,Nc3,Bg4,f3,Bh5,Be3,c6,Nf5,Qb6,Qe1,Bg6,Qf2,Nd3,Bxc5,Nxc5,Ne7+,Kh8,Nxg6+,fxg6,dxc6,bxc6,Na4,Nxa4,Bxa4,c5,Rfe1,Rad8,Re5', 'Ng4,Qe1,Nxe5', 'https://lichess.org/training/hqKn8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hQMFs', 'Blitz', 'GM kontraJako', 2797, 'GM MrBochwalt', 2866, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,c3,O-O,O-O,d6,Nbd2,Ne7,d4,exd4,cxd4,Bb6,h3,d5,e5,Ne4,Re1,Bf5,Nf1,c5,Be3,Rc8,dxc5,Bxc5,Bxc5,Rxc5,Ba4,Qb6,Qe2,Rfc8,Bb3,Bg6,Rad1,a5,Nd4,Nc6,Qe3,a4,Bxa4,Nxe5,Bb3,Nc4,Bxc4,Rxc4,f3,Nf6,Nb3,Qa6,Rxd5,Qxa2,Rd2,h6', 'Ra1,Qxa1,Nxa1', 'https://lichess.org/training/hQMFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HQpMZ', 'Classical', 'Be3N2', 1644, 'gvdlcc416', 1698, 'd4,d5,Bf4,Bf5,e3,Nf6,Bd3,Bxd3,Qxd3,e6,Nf3,a6,Nbd2,Be7,c3,O-O,e4,dxe4,Nxe4,Nbd7,O-O,c5,Rfd1,Qc8,Nfg5,h6,Nxf6+,Nxf6,Ne4,Rd8,Nxf6+,Bxf6,Qg3,Kh7,a4,cxd4,cxd4,Rxd4', 'Rxd4,Bxd4,Qd3+,Kh8,Qxd4', 'https://lichess.org/training/HQpMZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HqpXK', 'Rapid', 'rhaela', 1650, 'awoj123', 1672, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be3,Nf6,f3,g6,Qd2,Bg7,O-O-O,O-O,g4,d6,h4,Nd7,Nxc6,bxc6,Bh6,Rb8,Bxg7,Kxg7,h5,Qb6,b3,a5,hxg6,fxg6,Qh6+,Kf6,g5+,Kf7,Qxh7+,Ke8,Qxg6+,Kd8,Qg7,Qe3+,Kb2,Qxf3,Rh8,Bb7,Bh3,Kc7,Qxe7,Rxh8,Qxd7+,Kb6,Na4+,Ka7,Bf1,Qxd1,Qc7,Qd4+,c3,Qd2+,Ka3,Qe3', 'Qxa5+,Ba6,Qxa6#', 'https://lichess.org/training/HqpXK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hQQBw', 'Rapid', 'Le_Randy', 1652, 'mustik5', 1703, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,g6,Nc3,Bg7,Bd2,O-O,Nf3,b6,O-O,Bb7,Ne5,Nfd7,Nxd7,Nxd7,Nd5,e6,Nf4,e5,dxe5,Nxe5,Qc2,Kh8,Bc3,Nxc4,Bxg7+,Kxg7,Qxc4,a5,Rac1,Ba6,Qxc7,Bxf1', 'Ne6+,Kg8,Nxd8', 'https://lichess.org/training/hQQBw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hQrBm', 'Rapid', 'bgopu007', 1783, 'montrea13x', 1789, 'e4,c5,f4,d6,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qc3,Ne4,Qc4,d5,Qb5,a6,Qb3,Be6,c4,dxc4,Bxc4,Bxc4,Qxc4,Qa5+,Bd2,Nxd2,Nbxd2,e6,O-O,Bc5+,Kh1,O-O', 'Nb3,Qb4,Qxc5', 'https://lichess.org/training/hQrBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hqrgp', 'Rapid', 'kacrut', 1720, 'DavidSkerle', 1852, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Qe2,a6,Bxc6,bxc6,Nxe5,d6,Nd3,Nf6,Nxc5,dxc5,d3,Bg4,f3,Be6,Bg5,h6,Bxf6,Qxf6,O-O,Qxb2,Nd2,Qxc2,Rfc1,Qa4,Rxc5', 'Qd4+,Qf2,Qxa1+', 'https://lichess.org/training/hqrgp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hqsos', 'Classical', 'alvisa', 1929, 'george77gr', 1950, 'e4,e6,d4,d5,exd5,exd5,c4,c6,Nf3,Nf6,Bd3,dxc4,Bxc4,Bb4+,Nc3,O-O,O-O,Bg4,Bg5,Nbd7,Qb3,Bxc3,Qxc3,h6,Bxf6,Nxf6,Ne5,Nd5', 'Bxd5,Qxd5,Nxg4', 'https://lichess.org/training/Hqsos');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hqt2D', 'Blitz', 'toots1', 1976, 'Luisao0711', 1848, 'd4,d5,Nf3,Nc6,Bf4,Bg4,e3,e6,Be2,Nf6,h3,Bf5,Nbd2,Nb4,c3,Nc2+,Kf1,Nxa1,Qxa1,Bd6,Ne5,O-O,c4,dxc4,Ndxc4,Bb4,a3,Bd6,Nxd6,cxd6,Nc4,d5,Ne5,Ne4,f3,Nd2+,Kf2,Bg6,Nxg6,hxg6,h4,Nb3,Qd1,Qb6,h5,gxh5,Rxh5,Rfc8,Qd3,g6,Rg5,Nc1,Rxg6+,fxg6,Qxg6+,Kf8,Qh6+,Ke8,Qg6+,Kd7', 'Qf7+,Kc6,Qxe6#', 'https://lichess.org/training/hqt2D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HQTMw', 'Blitz', 'Peaudepailles', 2617, 'IM LittlePumpkin', 2508, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,c6,Nxe4,Nbd7,Bc4,e6,c3,Be7,Ng3,O-O,f4,Nd5,Nf3,b6,O-O,Bb7,Bd3,c5,dxc5,Nxc5,Bc2,Nf6,Qe2,Ba6,c4,Qc7,Ne5,Ncd7,b3,Rad8,Bb2,Bc5+,Kh1,Bb7,Nxd7,Nxd7,Qg4,g6,Qh4,f6,Rae1,Rde8,Qh6,Rf7,f5,Bf8,Qh3,gxf5,Nxf5,Kh8,Ng3,e5,Bg6,Ree7,Bxf7,Rxf7,Nh5,Qd6,Rd1,Qe7,Ng3,Nc5,Nf5,Qc7,Ba3,Ne4,Bxf8,Rxf8,Qe3,Qc6,Ne7,Qe6,Nd5,Nc5,b4,Nd7,a3,Qc6,Rc1,Qe6,Rfd1,Rg8,Qf2,f5,Rc2,Nf6,Re2,Nxd5,cxd5,Bxd5,Qe3,f4,Qxe5+', 'Qxe5,Rxe5,Bxg2+,Kg1,Bf3+,Kf2,Bxd1', 'https://lichess.org/training/HQTMw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hQTVP', 'Rapid', 'wiktormeteor', 1949, 'mpieli88', 2062, 'e4,c5,Nc3,Nc6,g3,e6,Bg2,Nf6,d3,Be7,Nge2,d5,exd5,exd5,O-O,O-O,Nf4,d4,Ncd5,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/hQTVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hqU9a', 'Rapid', 'Y0URK1NGG', 1688, 'nmyt', 1723, 'e4,d5,Nc3,d4,Nce2,e5,Nf3,Nc6,d3,Bg4,Ng3,Nf6,h3,Bxf3,Qxf3,Bb4+,Bd2,O-O,Nf5,a5,Bxb4,Nxb4,O-O-O,Nxa2+,Kb1,Nb4,Qg3,g6,Nh6+,Kg7,Nf5+,Kg8,Nh6+,Kh8,Qxe5,Qd6,Qxd6,cxd6,Ng4,Nxg4,hxg4,d5,e5,Rae8,f4,h5,gxh5,gxh5,Rxh5+,Kg7,f5,Rxe5,f6+,Kxf6,Rxe5,Kxe5,Re1+,Kf4,Re7,b5,Rb7,Rc8,Rxf7+,Ke5,g4,Rxc2,g5,Rc6,Bh3,Nxd3,Rf5+,Ke4,Rf6,Rc1+,Ka2,Nb4+,Kb3,Rc4,Re6+,Kf4,g6,a4+,Ka3,Nc2+,Ka2,Nb4+,Ka3,Nc2+,Ka2,b4,g7,b3+,Kb1,Rc8,Rf6+,Ke5,Bxc8,Kxf6,g8=Q,a3,Qxd5', 'a2+,Kc1,a1=Q+,Kd2,Qe1+', 'https://lichess.org/training/hqU9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hqwYD', 'Blitz', 'Zapasnoy', 2330, 'FM Ldearco', 2493, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Nf3,e6,cxd4,Nc6,a3,d6,Bd3,Be7,O-O,O-O,g3,Bd7,Kg2,Qc7,Qe2,Rad8,h4,dxe5,dxe5,Be8,Rh1,h6,Nbd2,f5,Nc4,b5,Ne3,Nxe5,Nxd5,Rxd5,Bf4,Bd6,Rad1,Nxd3,Rxd3,Rxd3,Qxd3,Bxf4,gxf4,Qxf4,Re1,Bc6,Re3,Be4,Qb3,Rf6,Kf1,Rg6,Ke2,Kh7,Qxb5,Bxf3+,Rxf3,Qe4+,Re3,Qc2+,Kf3,Qd1+,Re2,Qh1+,Kf4,Rg4+,Ke5,Re4+,Rxe4,Qxe4+,Kd6,Qd4+,Kxe6,Qxf2', 'Qxf5+,Qxf5+,Kxf5,g6+,Kf6,g5,hxg5,hxg5,Kxg5', 'https://lichess.org/training/hqwYD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HQXyY', 'Blitz', 'santro', 1525, 'rODrig01986', 1705, 'e4,g6,d4,Bg7,Nf3,d6,c4,e6,Nc3,Ne7,Bd3,Nd7,Be3,a6,a4,O-O,b4,b6,Nd2,e5,d5,Nf6,Bg5,h6,Bxf6,Bxf6,h4,h5,Be2,Kh7,g4,hxg4,Bxg4,Ng8,h5,g5,Bf5+,Bxf5,exf5,Nh6,Qf3,Qd7,Nce4,Kg7,Ng3,e4,Ndxe4,Bxa1,Nxg5,Rae8+,Kf1,Re5,f6+,Kh8,Qf4,Nf5,N3e4,Rfe8,h6,Rxe4,Nxe4,Be5,Qg5,Rg8', 'Qg7+,Rxg7,hxg7+,Kg8,Rh8#', 'https://lichess.org/training/HQXyY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HQy6X', 'Rapid', 'xsangyhix', 1698, 'Amalgeorge1', 1633, 'd4,d5,Nf3,Nf6,c4,dxc4,Nc3,c6,a4,Ng4,Bg5,Qa5,e3,h6,Bh4,e6,Bxc4,Qb4,Qe2,Nd7,O-O,Nb6,Bd3,Bd7,a5,Nd5,Ra4', 'Nxc3,bxc3,Qxa4', 'https://lichess.org/training/HQy6X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hqybj', 'Classical', 'eee01', 2211, 'Hundinghelgi', 1979, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,e6,Bf4,Nf6,Qb3,Qb6,e3,Nbd7,c5,Qxb3,axb3,Be7,Be2,Ne4,O-O,Ndf6,Nxe4,Nxe4,Rfd1,g5,Bc7,h5,h3,g4,hxg4,hxg4,Ne5,Bh4,g3,Bf6,Nxg4,Bxg4,Bxg4,Kd7,Bf4,a6,Ra4,Rh7,Rb4,Kc8,Kg2,a5,Ra4,Kd7,Rh1', 'Rxh1,Kxh1,Nxf2+,Kg2,Nxg4', 'https://lichess.org/training/hqybj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hQYl7', 'Rapid', 'boronatsky', 1744, 'echeniqueutu', 1658, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,h6,Bc4,Bd7,O-O,Be7,Bf4,Nc6,Nf5,O-O,Nd5,Nxd5,Bxd5,Bf6,Qh5,Bxf5,exf5,Nb4,Bb3,Bxb2,Rab1,Bf6,Bxf7+,Rxf7,Rxb4,b6,g4,Bg5,Bxg5,Qxg5,Qxg5,hxg5,Re1,Kf8,Rbe4,a5,R1e3,d5,Re6,Rd8,Rg6,d4,Rh3,Ke7,Rxg5,c5,Rh7,Rg8,Rg6,b5,Rc6,c4,Rc5,Rb8,Rc7+,Ke8,Rh8+,Rf8,Rxf8+,Kxf8,Rd7', 'd3,cxd3,c3,Rc7,b4', 'https://lichess.org/training/hQYl7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HqzV9', 'Rapid', 'Nakilex', 1688, 'marty108', 1756, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,Bxd4,Nxd4,Nxd4,c3,Nc6,Be3,Nxe4,Bxf7+,Kxf7,Qd5+,Kf8,Qxe4,Qf6,Nd2,d6,f4,Bf5,Qc4,Ke7,fxe5,Qxe5,Rae1,Kd8,Bd4,Qa5,Bxg7,Re8,Bf6+,Kd7,Qf7+,Re7,Rxe7+,Nxe7,Qxe7+,Kc6,Nc4,Qc5+,Ne3,Bd3,Re1,Rg8,Bd4,Qh5,Qe6,Re8,Qd5+', 'Qxd5,Nxd5,Rxe1+', 'https://lichess.org/training/HqzV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HqzW6', 'Rapid', 'jcosme', 1826, 'jogador515', 1831, 'e4,d6,Nf3,Nf6,Nc3,g6,Bc4,e6,d4,Bg7,Bg5,Qd7,Qe2,O-O,O-O-O,c6,Bxf6,Bxf6,e5,Bg7,exd6,Qxd6,Ne4,Qe7,Nfg5,f5,Nxh7,Kxh7,Ng3,b5,Bb3,Na6,a3,Nc7,h4,Nd5,h5,g5,Nxf5,Rxf5,g4,Rf4,Qd3+,Kh8,h6,Bxd4,f3,Bd7,Rde1,Raf8,Re4,Qf6,Bxd5,Bxb2+,Kb1,cxd5,Rxf4,gxf4,g5,Qc3,g6,Kg8,h7+,Kg7,h8=Q+,Rxh8,Rxh8,Kxh8,Qf1,Ba1,Qh1+,Kg8', 'Qh7+,Kf8,Qf7#', 'https://lichess.org/training/HqzW6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hr1Xf', 'Rapid', 'OmarBasha', 1643, 'nestorcapitan', 1668, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bc5,Be3,Qe7,Ncb5,Qe5,Nxc6,dxc6,Nxc7+,Qxc7,Bxc5,Qa5+,b4,Qc7,Bd6,Qd7,e5,Nd5,Qf3,Qe6,Bc4,f6,Qg3,Qg4,exf6,Qxc4,Qe5+,Kf7,fxg7,Re8', 'Qxe8+,Kxe8,g8=Q+', 'https://lichess.org/training/Hr1Xf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HR2rS', 'Rapid', 'Adesoja', 2049, 'Risk_It_4Biscuit', 2100, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,d6,O-O,Nbd7,d3,e5,Bd2,a5,a3,Nc5,b4,axb4,axb4,Rxa1,Qxa1,Nb3,Qb2,Nxd2,Nxd2,c6,b5,d5,bxc6,bxc6,Nf3,Re8,Nd2,e4,dxe4,d4,Nd1,d3,exd3,Qxd3,Qc3,Qd8,Re1,Nxe4,Qc2,Qxd2', 'Qxd2,Nxd2,Rxe8+', 'https://lichess.org/training/HR2rS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HrauZ', 'Rapid', 'N4Fis', 1803, 'elias_D35', 1807, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Ng5,Qxg5,O-O,d6,c3,Bg4,f3,Nxf3+,Rxf3,Bxf3,Qxf3,Nf6,Na3,O-O-O,d4,Qg4,Qd3,Be7,Bxf7,Nxe4,Be3,Rhf8,Qc4,exd4', 'Be6+,Qxe6,Qxe6+', 'https://lichess.org/training/HrauZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HRAw6', 'Blitz', 'tulowice', 1800, 'pumarosv', 1819, 'e4,e5,f4,d5,exd5,e4,d3,Nf6,dxe4,Nxe4,c4,Bb4+,Bd2,Bxd2+,Nxd2,Nxd2,Qxd2,O-O,Nf3,Re8+,Be2,Bg4,O-O,Qf6,h3,Bxf3,Bxf3,Nd7,b3,Rad8,Rae1,Nc5,Qb4,Nd3,Rxe8+,Rxe8,Qxb7,Qd4+,Kh2,Qxf4+,Kg1,Qe3+,Kh2,Qf4+,Kh1,Qg3,Kg1,Nf4,Qc6,Nxh3+,Kh1,Re1', 'Qa8+,Re8,Qxe8#', 'https://lichess.org/training/HRAw6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hRcgv', 'Rapid', 'XXvek', 1975, 'alavi-ha54', 1797, 'd4,Nf6,c4,g6,Nf3,c5,Nc3,cxd4,Nxd4,Nc6,e4,Bg7,Be3,Ng4,Qxg4,Bxd4,Bxd4,Nxd4,Qd1,e5,Be2,d6,O-O,Bd7,Qd2,O-O,Rfd1,Bc6,Bf1,f5,exf5,Qf6,Ne2,Nxf5,Ng3,Nd4,Bd3,Qh4,Qe3,Rf4,Rd2,Raf8,Rf1,Bxg2,Kxg2,Nf3,h3,Qxh3+,Kxh3', 'Rh4+,Kg2,Rh2#', 'https://lichess.org/training/hRcgv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hrcMv', 'Blitz', 'DJdiggy', 1626, 'Fabian61', 1617, 'd4,e6,c4,Nf6,Nc3,Bb4,Bg5,O-O,a3,Bxc3+,bxc3,h6,Nf3,hxg5,Nxg5,Nc6,e3,d5,h4,Ne4,Bd3,Nxg5,Qh5,g6,Bxg6,fxg6', 'Qxg6+,Kh8,hxg5#', 'https://lichess.org/training/hrcMv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hrDu8', 'Rapid', 'Tmeem', 1783, 'celalkocaman6873', 1764, 'd4,d5,Nf3,f6,Nc3,e6,g3,c6,Bg2,Bb4,Bd2,Ne7,O-O,O-O,a3,Bxc3,Bxc3,Nd7,Bb4,b6,Re1,c5,dxc5,bxc5,Bc3,d4,Bd2,Ba6,e3,Rb8,exd4,cxd4,Rxe6,Nc5,Re1,Rxb2,Bb4,d3,cxd3,Nxd3,Bxe7,Qb6,Bxf8', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/hrDu8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hrefk', 'Blitz', 'Aet64', 2410, 'juri365', 2329, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,d4,g6,e4,Nxc3,bxc3,Bg7,Be3,c5,Qd2,cxd4,cxd4,O-O,Nf3,Nc6,Rd1,Bg4,Be2,e5,dxe5,Bxf3,Bxf3,Nxe5,Be2,Qh4,Qb4,Ng4,e5', 'Nxe3,Qxh4,Nxg2+,Kf1,Nxh4', 'https://lichess.org/training/Hrefk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HrEI9', 'Classical', 'rajkos', 1718, 'stefan1234', 1828, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,Nxe4,Bd3,Nf6,Bg5,d6,O-O,dxe5,Re1,h6,dxe5,Be6,exf6,gxf6,Bf4,Nc6,c3,O-O-O,Qc2,Qd7,Re3,Bc4,Na3', 'Bxd3,Rxd3,Qxd3,Qxd3,Rxd3', 'https://lichess.org/training/HrEI9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HRfMS', 'Rapid', 'JohanGutierrez_ULima', 1693, 'abkz', 1742, 'd4,d5,Bf4,Bf5,Nf3,e6,e3,c5,Nbd2,a6,c3,Nc6,Bd3,c4,Bxf5,exf5,Qc2,g6,Ne5,Bg7,Qa4,Ne7,Ndf3,O-O,h4,Nxe5,Nxe5,Nc6,h5,Nxe5,Bxe5,Bxe5,dxe5,Qg5,Kf1,f4,hxg6,fxg6,Qd7,Rf7,Qxd5,Rd8,Qxc4,fxe3,f4,Qxe5', 'Qxf7+,Kxf7,fxe5', 'https://lichess.org/training/HRfMS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HRHLp', 'Blitz', 'pillsbury2017', 1742, 'Hiwax', 1747, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,h6,O-O,d5,exd5,Nxd5,d4,exd4,Re1+,Be6,cxd4,Bb4,Re2,O-O,a3,Be7,Bd3,Nf6,Nc3,Nxd4,Nxd4,Qc8,Qc2,Bc5,Nf5,Qd7,b4,Bb6,Bb2,Bxf5,Bxf5,Qd4,Rd1,Qh4,g3,Qg5,Bc1,Qh5,Bf4,Ng4,h3,Qxh3,Bxg4,Qxg4,Nd5,Rad8,Bxh6,Qxg3+,Kf1,Qh3+,Ke1,Qxh6,Ne7+,Kh8,Qe4,Rxd1+,Kxd1,Rd8+,Kc2,Re8,Rd2,Qf6,f3,Qxe7', 'Rh2+,Kg8,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/HRHLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HriTE', 'Blitz', 'lugoking', 2469, 'CM clnm08042015', 2354, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,h3,d6,Bb3,a6,c3,O-O,Nbd2,Nd7,Nc4,Bf6,Ne3,Ne7,Ng4,Ng6,Nxf6+,Nxf6,Bg5,h6,Be3,d5,exd5,Nxd5,O-O,b6,d4,Bb7,Bd2,e4,Nh2,Re8,Ng4,f5,Ne3,Qd7,Qh5,Ne7,f3,Kh7,fxe4,Nxe3,Bxe3,Bxe4,Rae1,Nd5,Bc1,Rf8,Rxe4,Nf6,Be6,fxe4,Qf5+,g6,Qf4,Qxe6', 'Qxh6+,Kg8,Qxg6+', 'https://lichess.org/training/HriTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hrK3l', 'Rapid', 'Furiadelmono', 1815, 'wael-hassan', 2249, 'c4,e5,Nc3,c6,e4,a6,g3,Bc5,Nf3,d6,h3,Be6,b3,Nd7,Bg2,Ne7,O-O,h6,d4,exd4,Nxd4,Bxd4,Qxd4,Qc7,Bf4,Ne5,c5,Bxh3,cxd6,Qd7,Bxe5,Bxg2,Kxg2,Ng6,Na4,O-O,Nb6,Qg4,Nxa8', 'Nh4+,Kg1,Nf3+', 'https://lichess.org/training/hrK3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hRklW', 'Rapid', 'bozok22', 2106, 'MAJID_974', 2165, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,d6,c4,Be7,Nc3,O-O,h3,h6,O-O,Nh7,g4,Ng5,Nxg5,Bxg5,Be3,Bxe3,fxe3,Qh4,Kg2,h5,Qf3,hxg4,hxg4,Bxg4,Qg3,Qxg3+,Kxg3,Bd7,Nd5,f6,Nxc7,Rad8,Nd5,Kf7,Bd1,Rh8,Bf3,Rh3+,Kf2,Rh2+,Bg2,Bh3,Rg1,Bxg2,Rxg2,Rdh8,Rg1,Nd8,Nc3,Ne6,Ne2,Ng5,Rxh2,Rxh2+,Rg2,Rh1,Ng1,a5,a3,a4,Rg3,Rh2+,Rg2,Rh5,Ne2,g6,Nc3,Rh1,Nxa4,Rb1,Ke2,Nh3,Kd2,g5,Kc2,Rf1,b4,Ng1,d4,Nf3,dxe5', 'Ne1+,Kd2,Nxg2', 'https://lichess.org/training/hRklW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HrL3t', 'Blitz', 'labretagne', 2040, 'mahen', 2016, 'e4,g6,d4,Bg7,Be3,d5,e5,e6,Bd3,Ne7,Ne2,O-O,Qd2,c5,c3,Nbc6,Bh6,cxd4,cxd4,Qb6,Bxg7,Kxg7,Nbc3,Bd7,Na4,Qb4,Qxb4,Nxb4,Nc5,Nxd3+,Nxd3,b6,Kd2,Rac8,Rac1,a5,b3,Nf5,h4,Rxc1,Rxc1,Nxh4,Rc7,Bb5,g3,Nf5,Nc3,Nxd4,Nxb5,Nxb5,Rb7,Nd4,Rxb6,Ra8,Rb7,h5,f4,Nf5,Nc5,Kg8,Nd7,Nxg3,Nf6+,Kg7,Ke3,Nf5+,Kf3,Rc8,Ra7,Rc3+,Kf2,Nd4,Ra8,g5', 'Rg8+,Kh6,fxg5#', 'https://lichess.org/training/HrL3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HRlte', 'Blitz', 'mali1', 1608, 'Jeric16k', 1652, 'd4,g6,c4,Bg7,Nc3,d6,e3,Nd7,Nf3,c6,Bd3,Ngf6,h4,h5,Qc2,a6,Bxg6,fxg6,Qxg6+,Kf8,Ng5,Qe8', 'Ne6+,Kg8,Qxg7#', 'https://lichess.org/training/HRlte');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hrNVr', 'Rapid', 'DjConsti', 1882, 'Zzblesk', 1907, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Ne5,e6,Nxg6,hxg6,d4,Nf6,Bc4,Nbd7,Bg5,Be7,Qd2,Nh5,Bxe7,Qxe7,O-O-O,Nxg3,hxg3,O-O-O,c3,Rh5,Qe3,Kb8,Qf4+,Ka8,Bb3,Rdh8,Rxh5,gxh5,Re1,Nf6,Qg5,Rg8,f3,Qd6,Re5,Nd7,Re2,g6,g4,hxg4,Qxg4,Rh8,g3,Nf6,Qg5,Nh5,f4,a6,Re5', 'f6,Qxg6,fxe5', 'https://lichess.org/training/hrNVr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hrO03', 'Rapid', 'Roch_7220', 2083, 'etiennelepro', 2024, 'e4,c5,c4,Nc6,Nc3,g6,d3,Bg7,g3,e5,Bg2,d6,Nge2,Nge7,Nd5,O-O,Nec3,f5,Nxe7+,Nxe7,O-O,h6,f4,Qc7,Nd5,Nxd5,exd5,Bd7,Rb1,Rae8,Re1,Kh7,b4,b6,bxc5,bxc5,fxe5,Bxe5,Bb2,Bxb2,Rxb2,Qa5,Rxe8,Rxe8,Re2,Ba4,Qf1,Qd8,Qe1,Rxe2,Qxe2,Qe8,Qxe8,Bxe8,Kf2,Kg7,Ke3,Kf6,d4,Ba4,Bf1,g5,Be2,Bc2,Bd3,Bxd3,Kxd3,h5,h4,cxd4,Kxd4,f4,gxf4,gxh4,Ke3,Kf5,Kf3,a6,a3,a5,a4,h3,Kg3,h2,Kxh2,Kxf4', 'c5,Ke5,c6,Kxd5,c7', 'https://lichess.org/training/hrO03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HRoqb', 'Classical', 'Shafiq10842', 1819, 'reciovsky', 1849, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bg5,h6,Bxf6,exf6,Bc4,Bd6,Nf3,O-O,d5,Bg4,h3,Bh5,g4,Bg6,Nh4,Re8+,Ne2,Be4,f3,Bxd5', 'Qxd5,Bg3+,Kf1,Qxd5,Bxd5,Bxh4,Bxb7', 'https://lichess.org/training/HRoqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hrORN', 'Blitz', 'broozezing', 1818, 'daveaarsh', 1698, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,h4,d6,Bg5,e5,Bxf6,Bxf6,h5,e4,Nxe4,d5,cxd5,Bf5,Nxf6+,Qxf6,hxg6,Bxg6,Qb3,Nd7,Ne5,Nxe5,dxe5,Qxe5,Rd1,b6,e3,Rae8,Be2,Qg5,Kf1,Be4,Rh5,Qxg2+,Ke1,Qg1+,Kd2,Qg2,Ke1,Qg6,Rc1,Qd6,Rc6,Qd7,Rg5+,Bg6,Qc4,Kg7,Qd4+,Kh6,Qh4+,Kg7,Qf4,Re7,Bg4,Qd8,Bf5,h6,Rcxg6+,fxg6,Rxg6+,Kh8,Qxh6+,Rh7', 'Rg8+,Rxg8,Qxh7#', 'https://lichess.org/training/hrORN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HrpRz', 'Rapid', 'Retribuci0n', 1859, 'samad_110', 2106, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N5c3,Nf6,Nd5,Nxe4,Be3,Be6,Nbc3,Nxc3,Nxc3,Be7,Qd2,O-O,O-O-O,a6,Nd5,Bxd5,Qxd5,Rc8,f4,Kh8,Bd3,f6,Rhf1,Nb4,Qxb7,Nxd3+,Rxd3,a5,Bb6,Qe8,Bxa5,Qf7,fxe5,dxe5,Kb1,Rb8,Qd5,Qg6,g3,h6,Rfd1,Bb4,Bxb4,Rxb4,Qd6,Rbb8,a3,Rbc8,Qa6,e4,Re3,Qg4,Rde1,Qh3,Qe2,f5,Rf1,Rcd8,Qf2,Rd2,Qxd2,Qxf1+,Re1,Qb5,Qf2,Qd5,Qf4,Qd4,h4,Qd5,g4,Qa5,Re3,Qd2,gxf5,Qd1+,Ka2,Qd5+,Kb1,Qd1+,Ka2,Qd5+,Kb1,Rxf5,Qxe4', 'Rf1+,Re1,Qxe4', 'https://lichess.org/training/HrpRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HRPUA', 'Rapid', 'YantogepengKLCC', 1899, 'Msato', 1895, 'e4,e6,d4,d5,e5,c5,c3,cxd4,Qxd4,a6,a4,Nc6,Qf4,Nge7,Nf3,Ng6,Qg3,Qc7,Bf4,Qb6,b4,Nxb4,cxb4,Qxb4+,Nbd2,Qxf4,Qxf4,Nxf4,g3,Ng6,Bd3,Bb4,O-O,Bxd2,Nxd2,Nxe5,Be2,O-O,f4,Nc6,Rab1,Rb8,Nf3,Bd7,Rb2,f6,Rfb1,Na5,Bxa6,Bc6,Bb5,Rbc8,Nd4,Bxb5,Rxb5,e5,Nf5,Nc6,Rxb7,Rf7', 'Rxf7,Kxf7,Nd6+,Ke6,Nxc8', 'https://lichess.org/training/HRPUA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hrPWo', 'Rapid', 'gilzzza', 1670, 'saeedaz', 1696, 'e4,d6,g3,f5,exf5,e5,fxe6,Bxe6,Bg2,Qe7,Ne2,d5,O-O,c6,Re1,Bg4,d4,Qf7,Nf4+,Be7,Qxg4,Nd7,Nd2,Ndf6,Qe2,O-O-O,Nb3,Re8,Qd1,Bb4,c3,Bd6,Rxe8+,Nxe8,a4,Nef6,a5,a6,Nc5,Bxc5,dxc5,Nh6,Be3,g5,Nd3,Nhg4,Bxg5,Qh5,Bxf6,Qxh2+,Kf1,Nxf6,Qf3,Ne4,Qg4+,Kb8,Nf4,Nd2+,Ke2,Nc4,b3,Re8+,Kd3', 'Ne5+,Kd2,Nxg4', 'https://lichess.org/training/hrPWo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HRqzv', 'Rapid', 'Almafuerte1960', 1646, 'Pacesetter', 1685, 'e4,e5,Nf3,d6,Bc4,h6,d3,Nf6,Nc3,Qe7,Nd5,Nxd5,Bxd5,c6,Bb3,Be6,c4,Nd7,O-O,Nc5,Bc2,O-O-O,b4,Nd7,Be3,b6,a4,c5,bxc5,dxc5,a5,Kb7,axb6,axb6,Ba4,f6,Bb5,Nb8,Qa4,Kc8,Qa7,Qxa7,Rxa7,Bd6,Rfa1,Bc7,Ra8,Rxd3,Nh4,Rhd8,g3,Rc3,Kg2,Bxc4,Ba6+,Bxa6,R1xa6,Rd7,Nf5,Kd8,f4,Rc2+,Kf3,Rxh2,R6a7,Rh1,fxe5,fxe5,Nh4,Rf1+,Kg4,Re1,Kf3,Rf7+,Nf5,Rd1', 'Rxb8+,Bxb8,Rxf7', 'https://lichess.org/training/HRqzv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hrrBI', 'Blitz', 'sergio_setien', 1955, 'corsino_maquiling_jr', 1940, 'd4,d5,c4,c6,Nf3,Nf6,e3,e6,Nbd2,Bd6,Bd3,Qc7,O-O,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Nd7,b3,Nf6,Bc2,Bf4,Bb2,Rd8,Qd3,g6,d5,e5,Qe2,cxd5,Bxe5,Bxe5,Qxe5,Qxe5,Nxe5,dxc4,Nxc4,Be6,Rad1,b5,Nd6,Rab8,Ne4,Nd5,Nc5,Bg4,Rd2,Nc3,Rxd8+,Rxd8,f3,Bc8,a4,Rd2,Be4,bxa4,bxa4,Ne2+,Kh1,Nf4,g3,Bh3,Rb1', 'Bg2+,Kg1,Nh3#', 'https://lichess.org/training/hrrBI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hrrwe', 'Rapid', 'PioChess', 1702, 'Filiptyrna', 1818, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bd3,Bg7,O-O,O-O,Be3,Nc6,Nxc6,bxc6,Qd2,Ng4,h3,Nxe3,fxe3,Qb6,Rab1,Bh6,Rf3,Be6,Na4,Qb7,Nc3,c5,Qe2,f5,Bc4,Qd7,Bxe6+,Qxe6,exf5,Rxf5,Rxf5,Qxf5,Qc4+,e6,Nd1,Rf8,Qd3,Qf6,Nc3,Qf2+,Kh1,Bxe3,Qxd6', 'Qf1+,Rxf1,Rxf1+,Kh2,Bf4+,Qxf4,Rxf4', 'https://lichess.org/training/Hrrwe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HRSnN', 'Classical', 'cynic76', 1675, 'Kemalidis', 1704, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,d3,f6,Qh5+,g6,Nxg6,hxg6,Qxh8,Kf7,dxe4,d5,exd5,c6,dxc6', 'Bb4+,c3,Qxh8', 'https://lichess.org/training/HRSnN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hrswK', 'Blitz', 'kemo1133', 1798, 'Perl1Nakajima', 2040, 'e4,c5,d4,cxd4,c3,e6,Nf3,d5,exd5,Qxd5,cxd4,Nc6,Nc3,Qd8,Bc4,Nf6,O-O,Be7,Re1,O-O,Bg5,a6,Bb3,Nb4,a3,Nbd5,Nxd5,Nxd5,Bxe7,Nxe7,Qd3,b5,Ng5,Ng6,h4,Bb7,Bc2,Qd5,f3,Rad8,Nxh7,Kxh7,Re5,Qxd4+,Qxd4,Rxd4,h5,Rd2,hxg6+,fxg6,Rh5+,Kg8,Bxg6,Rxb2,Rc1,Rd8,Rc7,Bxf3', 'Bf7+,Kf8,Rh8#', 'https://lichess.org/training/hrswK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hrtgB', 'Rapid', 'Maruti87', 1812, 'adrija2011', 1790, 'd4,f5,Nf3,Nf6,c4,e6,e3,c6,Bd2,d5,cxd5,cxd5,Nc3,Bd6,Bb5+,Nbd7,O-O,O-O,a3,Ne4,Bd3,Qc7,Rc1,Qd8,Nb5,Ndf6,Ne5,Bxe5,dxe5,Ne8,f3,Nxd2,Qxd2,b6,f4,a5,Nd4,Bd7,b3,Rb8,a4,Nc7,Rc2,Rc8,Rfc1,Rf7,Nc6,Bxc6,Rxc6,Rb8,Qc2,Rb7,Ba6,Ra7,Bb5,Rb7,Rd6,Qc8,Rxe6,Qxe6,Bc6,Ra7,Bb5,Nxb5,axb5,Rf8,Qe2,Rc8,Rxc8+,Qxc8,Kf2,Rc7,Kg3,Rc2,Qd3,Rc3,Qxd5+,Kh8,Kf3,Rc5,Qd6,Rxb5,e6,Rxb3,e7,h6', 'Qd8+,Qxd8,exd8=Q+', 'https://lichess.org/training/hrtgB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HrUoO', 'Rapid', 'Stabil_10', 1659, 'Ice_Eugenio', 1625, 'd4,e5,dxe5,Nc6,e6,fxe6,c4,Nf6,Nc3,Bc5,Nf3,d6,g3,O-O,Bg2,d5,cxd5,exd5,O-O,a5,Ng5,d4,Nce4,Nxe4,Nxe4,Bf5,Nxc5,b6,Bxc6,bxc5,Bxa8,Qxa8,Bf4,Bh3,f3,c4,Be5,d3,exd3,Qa7+,Kh1,cxd3,Qxd3,Re8,Rfe1,Qf2,Rg1,Rxe5,Qd8+,Kf7,Qxc7+,Kg6,Qxe5', 'Qxf3+,Rg2,Qxg2#', 'https://lichess.org/training/HrUoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HRXVU', 'Classical', 'chessmentality1248', 2051, 'Ali_Suwarjono', 2172, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bd3,Bg7,Nb3,Nc6,O-O,O-O,f4,Ng4,Qf3,Nd4,Nxd4,Bxd4+,Kh1,e5,g3,exf4,Bxf4,Ne5,Bxe5,dxe5,Bc4,Kg7,Rad1,f5,exf5,Rxf5,Qd5,Qe7,Qg8+,Kh6,Nd5,Qg7,Qxg7+,Kxg7,c3,Bc5,Nc7,Rb8,b4,Be7,g4,Rxf1+,Rxf1,Bh4,Rf7+,Kh6,Rf8,b5,Be6', 'Bb7+,Kg1,Rxf8', 'https://lichess.org/training/HRXVU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hS1LN', 'Rapid', 'Luzgin', 1846, 'IvanUrwin', 1822, 'e4,e5,f4,exf4,Nf3,g5,Bc4,Bg7,O-O,g4,Ne1,h5,Bxf7+,Kxf7,Rxf4+,Ke8,d4,Bh6,Rf5,Bxc1,Re5+,Kf8,Qxc1,d6,Qf4+,Kg7', 'Rg5+,Qxg5,Qxg5+', 'https://lichess.org/training/hS1LN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HS3na', 'Rapid', 'alsing', 1718, 'filyus', 1624, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,b3,Nc6,Bb2,Bg4,Be2,h5,h3,Be6,Ng5', 'Qxg2,Bf3,Qxg5', 'https://lichess.org/training/HS3na');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hs3vF', 'Rapid', 'adetmeteodet', 1835, 'Lupo2221', 2055, 'd4,g6,e4,Bg7,c4,d6,Nc3,Nf6,Bd3,O-O,h3,Nc6,Be3,Nd7,Nf3,e5,d5,Nd4,Bxd4,exd4,Ne2,c5,O-O,b5,b3,bxc4,Bxc4,Qa5,Qd3,Nb6,Nd2,f5,Ng3,fxe4,Ngxe4,Bf5,f3,Bh6,Rfd1,Be3+,Kh1,Rae8,Nf1,Bxe4,fxe4,Bf4,Nd2,Bxd2,Rxd2,Rf4,Re2,Re5,g3,Rf7,Kg2,Nd7,Rf1,Rxf1,Kxf1,Qd8,Rf2,Nf6,Re2,Qe7,b4,Nxe4,bxc5,Qg5,Rxe4,Rxe4,Qxe4,Qc1+,Kf2,Qxc4,Qe6+,Kg7,Qd7+,Kh6,Qxd6,Qc2+,Kf3,Qc3+,Kf2,Qe3+,Kg2,Qe2+,Kg1,Qe3+,Kg2,Qd2+,Kg1,Qc1+,Kf2,Qc2+,Kf3,Qf5+,Kg2,d3,Qf4+', 'Qxf4,gxf4,d2', 'https://lichess.org/training/hs3vF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hs5Hm', 'Blitz', 'Ishmael67', 2141, 'feli100', 2146, 'd4,Nf6,c4,g6,Nf3,Bg7,g3,O-O,Bg2,d5,O-O,c5,Nc3,Nc6,dxc5,Qa5,cxd5,Nb4,d6,Qxc5,dxe7,Qxe7,Bf4,Bg4,Bd6,Qe6,Bxb4,Rfd8,Qb3,Qf5,Be7,Bxf3,Bxf3,Rd2,Bxf6,Bxf6,Qxb7,Rad8,Ne4,Rxe2,Nxf6+,Qxf6,Bxe2,Rd2,Bc4,Rxb2,Bxf7+,Kg7,Bb3+,Kh6,Rab1,Rd2,Qe4,Kg7,Rfe1', 'Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/Hs5Hm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HS82K', 'Blitz', 'iensen', 1606, 'Jonsimard906', 1564, 'e4,e5,Nf3,Nf6,d4,Nc6,dxe5,Nxe4,Qe2,Nc5,Nc3,g6,Be3,Ne6,O-O-O,Bg7,Bd4,O-O,Ne4,Bh6+,Kb1,Ncxd4,Nxd4,Nxd4,Rxd4,Bg7,f4,f6,exf6,Bxf6,Nxf6+,Qxf6,Qc4+,Rf7,Bd3,b5,Qc3,Bb7,Bxb5,a6,Bc4,Bxg2,Bxf7+,Qxf7,Rg1,Bd5,Qxc7,Bxa2+,Ka1,Re8,Rxd7,Qe6,Rdd1,Bc4,Rge1,Qxe1,Qxc4+,Qe6,Qa4,Qe2,c3,Rf8,Qb3+,Kh8,Qa4,Qxh2,Qd4+,Kg8,Qd5+,Rf7,Qd8+,Kg7,Qd4+,Kg8,Qd8+,Rf8,Qg5,Rxf4,Rd8+,Rf8,Qd5+,Kg7,Qd7+,Rf7,Qd4+,Rf6', 'Rd7+,Kh6,Qxf6,Qg1+,Ka2', 'https://lichess.org/training/HS82K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HS8DY', 'Classical', 'Khoveto_vero', 1905, 'pheldda', 1844, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,c5,d5,Qa5,Bxf6,gxf6,Qd2,d6,a3,Nd7,Rc1,Bxc3,Qxc3,Qxc3+,Rxc3,Ne5,e3,b6,Be2,Rg8,g3,Bb7,e4,Ke7,Nf3,Rg7,Nxe5,fxe5,Kd2,Rf8,b4,cxb4,axb4,f5,f3,h5,c5,bxc5,bxc5,exd5,c6,d4,Rc2,Bc8,Ra1,Kf6,c7,fxe4,fxe4,h4,g4,Kg5,h3,Kf4', 'Rf1+,Kg3,Rxf8', 'https://lichess.org/training/HS8DY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hs8PY', 'Classical', 'rogerc16', 1807, 'rgreensd', 1758, 'e4,c5,Bc4,e5,Nf3,d6,d3,Be6,Bxe6,fxe6,Ng5,Qf6,Nf3,Nc6,Nbd2,Nge7,Nc4,Nc8,Bg5,Qf7,Qd2,h6,Bh4,g5,Bg3,Bg7,O-O,g4,Ne1,h5,f4,Bh6,Qe2,Nd4,Qd1,exf4,c3,d5,Ne5,Qc7,cxd4,fxg3,h3,cxd4', 'Qa4+,Kd8,Nf7+', 'https://lichess.org/training/hs8PY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hS8Qq', 'Rapid', 'pawnographist', 1835, 'clsi', 1788, 'e4,d6,Nc3,Nf6,d4,Nbd7,Bb5,c6,Ba4,b5,Bb3,b4,e5,bxc3,exf6,cxb2,Bxb2,Nxf6,Nf3,Ba6,c4,d5,Ba4,Qa5+,Nd2,Qb6,Rb1,Rb8,O-O,e6,c5,Qc7,Re1,Be7,Nf3,Nd7,Qd2,Bc4,Bc3,O-O,Bb3,Bb5,Ne5,Nxe5,Rxe5,Bc4,Qe3,Bf6,Rh5,Bxb3,axb3,a5,Qd3,g6,Rh3,Ra8,Qe3,Bg7,Qg5,a4,bxa4,Rxa4,g4,h6,Qc1,g5,Qc2,Qf4', 'Qxa4,Qxg4+,Rg3', 'https://lichess.org/training/hS8Qq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hS9cN', 'Rapid', 'ae_zak', 1655, 'albator2100', 1694, 'e4,e6,d4,Nc6,Nf3,b6,d5,exd5,exd5,Nb4,a3,Na6,Nc3,Bb7,Bd3,Bd6,O-O,Nf6,Nd4,O-O,Bg5,h6,Bxf6,Qxf6,Nf5,Bc5,Qg4,b5,Qe4,Rae8', 'Ne7+,Qxe7,Qh7#', 'https://lichess.org/training/hS9cN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hS9Nd', 'Rapid', 'GUPUH_W', 1985, 'Karavalga', 1720, 'd4,d5,Nf3,Nc6,g3,Nf6,Bg2,Ne4,O-O,g6,a3,Bg7,c3,O-O,b4,e6,a4,a6,Ba3,b5,a5,Ne7,Bc1,h6,Ra2,f6,Be3,g5,Nfd2,f5,c4,bxc4,Nxc4,dxc4,Bxe4,fxe4,Qc2,Bb7,Rd1,Nd5,Qxe4,Qe7,Rad2,Rab8,h3,c3,Rc2,Nf4,d5,Nxh3+,Kh2,Bc8,Nxc3,Rxb4,Rd4,c5,Rxb4,cxb4,Nd1,b3,Rc6,b2,Nxb2,Bxb2,Rxc8,Rxc8,Kxh3,Qd7,Qg6+,Bg7,dxe6,Qe7,Bd4,Rc6,Bxg7,Qxg7', 'Qe8+,Qf8,Qxc6', 'https://lichess.org/training/hS9Nd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HSaQT', 'Blitz', 'dannysmet', 2020, 'aliencpu', 1982, 'b4,e5,Bb2,e4,f3,Qh4+,g3,Qg5,fxe4,Bxb4,Nf3,Qg6,c3,Bd6,d3,Nf6,Bg2,Bxg3+,hxg3,Qxg3+,Kf1', 'Ng4,Qe1,Ne3+,Kg1,Qxg2#', 'https://lichess.org/training/HSaQT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HSAw0', 'Rapid', 'whydoihearbossmusic', 1708, 'Vassileskii', 1663, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,g6,Nc3,Bg7,Bd2,Nge7,h4,h5,O-O-O,O-O,Be2,d5,Nxd5,Nxd5,exd5,Qxd5,Kb1,Be6,b3,Qxg2', 'Bf3,Qxh1,Bxh1', 'https://lichess.org/training/HSAw0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HScDU', 'Bullet', 'NimzoCanadian', 1865, 'seyed111', 1749, 'd4,d5,Nf3,f5,Bf4,e6,e3,Bd6,Bg3,c6,Bd3,Nf6,Bxd6,Qxd6,Ne5,Nbd7,Nxd7,Bxd7,Nd2,O-O,O-O,Ne4,f3,Ng5,Qe2,Rf6,c3,Rh6,f4,Ne4,Nxe4,fxe4,Bc2,Rf8,c4,a6,c5,Qe7,Qf2,Qf7,Bd1,Qf5,h3,Qg6,Bg4,Kh8,Qg3,Qf6,Rf2,Rg6,Qh2,Rh6,Raf1,Qh4,f5,Rhf6,g3,Qg5,fxe6,Bxe6,Bxe6,Qxe3,g4,Rxe6,Kh1,Rxf2', 'Qb8+,Re8,Qxe8+,Rf8,Rxf8#', 'https://lichess.org/training/HScDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HsCY6', 'Rapid', 'chereL06', 1986, 'esat08', 1892, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,c6,Be2,d5,e5,f6,exf6,Nxf6,c3,Bd6,cxd4,O-O,Bf3,Qc7,g3,Bh3,Bg2,Bxg2,Kxg2,Ne4,d3,Nf6,Be3,c5,dxc5,Bxc5,Bxc5,Qxc5,d4,Qe7,Nc3,Qf7,Qb3,Rad8,Rae1,Ng4,h3,Nxf2,Re2', 'Qf3+,Kh2,Ng4+,hxg4,Qxf1', 'https://lichess.org/training/HsCY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hsdme', 'Blitz', 'Bejean', 1639, 'StupChessPlayer', 1639, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Bb3,Nc6,d3,Nf6,Bg5,Be7,Qd2,h6,Bf4,O-O,Bxh6,gxh6,Qxh6,Ng4,Qh5,Nce5,h3,Nxf3+,gxf3,Nf6,Rg1+,Ng4,Rxg4+,Bxg4,hxg4,Bg5,Nd2,Re8+,Kf1,Qe7,Kg2,c6,Rg1,Qf6,Rh1,Bxd2,Qh7+,Kf8,c4,Qxb2,cxd5,Qg7,Qf5,Re5,Qd7,Rae8,dxc6,bxc6', 'Rh8+,Qxh8,Qxf7#', 'https://lichess.org/training/Hsdme');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hsF8m', 'Rapid', 'AdeilsonB', 1726, 'Markus8312', 1707, 'e3,e5,b3,Nc6,Bb2,Bc5,Bb5,Qf6,Qf3,Qg6,d3,a6,Bxc6,dxc6,Bxe5,Bg4,Qg3,O-O-O,h3,Be6,Qxg6,hxg6,Bxg7,Rh7,Bb2,Nh6,Ne2,g5,Bf6,Rg8,Nd2,g4,Ne4,Bb6,Bd4,Bxd4,Nxd4,Rg6,hxg4,Rxg4,Nf6,Rhg7,Nxg4,Nxg4,g3,Ne5,O-O,Bh3,Rfc1,c5,Ne2,Nf3+,Kh1,Rh7,Nf4', 'Bf1+,Nh5,Rxh5#', 'https://lichess.org/training/hsF8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hsG0T', 'Rapid', 'Gaye52', 1874, 'mihaelbornab', 1831, 'Nf3,c5,c4,g6,g3,Bg7,Bg2,Nf6,O-O,Nc6,Nc3,O-O,a3,d6,d3,Be6,Bd2,h6,Na2,Ng4,b4,Bxa1,Qxa1,cxb4,axb4,a6,h3,Nf6,Bxh6,Kh7,Bxf8,Qxf8,Ng5+,Kg7,Nxe6+,fxe6,b5,axb5,cxb5,Nb4,Bxb7,Rxa2,Qb1,Ra7,Qxb4,Rxb7,Ra1,Qb8,Qb3,Rxb5,Qxe6,Re5,Qa2,Qh8,Kg2,Qh5,Re1,g5,d4,Re4,Qd2,g4,h4,Qd5,f3,Rxd4,Qe3,gxf3+,exf3,Rd2+,Kh3,e5,Qg5+,Kf7,h5,Qa2,Rh1,Qe6+,g4,Rd3', 'Qg6+,Kf8,Qxd3', 'https://lichess.org/training/hsG0T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hsgmx', 'Rapid', 'Ar_chess', 1813, 'yavuzgoksu', 1710, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,h3,O-O,d3,d6,a3,Be6,Bxe6,fxe6,Bg5,h6,Bh4,Nd4,Qd2,Nxf3+,gxf3,g5,Rg1,Kh7,Bxg5,hxg5,Qxg5,Rg8', 'Qh4+,Nh5,Qxh5#', 'https://lichess.org/training/hsgmx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HSGQN', 'Blitz', 'NM dmjjmd', 2443, 'Dobry_Ostankinets', 2496, 'e4,d5,exd5,Qxd5,Nf3,Nc6,Be2,Bg4,O-O,Nf6,c4,Qf5,Nc3,O-O-O,b4,e5,b5,Nd4,Nxd4,exd4,Bxg4,Nxg4,Ne2,d3,Ng3,Qg6,Bb2,Bd6,Qf3,Bxg3,fxg3,f6,Rae1,Rhe8,h3,Nh6,g4,Nf7,Qf5+,Qxf5,gxf5,Ng5,Ba3,Re2,Bb4,Rd4,Rxe2,dxe2,Re1,Rxc4,Bc3,Rc5,a4,Rxf5,Rxe2,Kd7,h4,Ne6,Re4,Rd5,Kf2,c5,Ke3,b6,g3,f5,Re5,Rxe5+,Bxe5,g6,Kd3,Nc7,Kc4,Kc8,d4,cxd4,Kxd4,Kd7,Kc4,h6,Bg7,h5,Be5,Kc8,Bf6,Kb7,Be5,a6,Bxc7,axb5+,axb5,Kxc7,Kd5,Kd7,Ke5,Ke7,Kd5,g5', 'hxg5,f4,gxf4', 'https://lichess.org/training/HSGQN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HsGvK', 'Classical', 'cpizo33', 1630, 'ChrissThePawnEater', 1622, 'e4,e5,Qh5,Nc6,Bb5,d6,Bxc6+,bxc6,Nc3,Nf6,Qd1,d5,exd5,cxd5,d4,e4,Bg5,h6,Bxf6,Qxf6,Nxd5,Qd6,c4,Be6,Qa4+,c6,Nb4', 'Qxb4+,Qxb4,Bxb4+', 'https://lichess.org/training/HsGvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HShHP', 'Rapid', 'maxdelvecchyo', 1816, 'cybyque', 1814, 'b4,e5,Bb2,Bxb4,Bxe5,Nf6,a3,Bc5,e3,O-O,g3,d5,Bg2,Nc6,Bb2,Bg4,Nf3,d4,O-O,Ne5,exd4,Nxf3+,Bxf3,Bxf3,Qxf3,Bxd4,Bxd4,Qxd4,c3,Qb6,d4', 'Qb2,Nd2,Qxd2', 'https://lichess.org/training/HShHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hSHlB', 'Rapid', 'ucaksever', 1964, 'RajuMNchess', 2021, 'e4,e5,d4,exd4,c3,Qe7,Qg4,Nc6,g3,d5,Qe2,dxe4,Bg2,Bf5,Qb5,O-O-O,Qxf5+,Kb8,Qxe4,Qxe4+,Bxe4,Re8,cxd4,Rxe4+,Ne2,Nxd4,Nc3,Bb4,Be3,Bxc3+,Nxc3,Nc2+,Kd2,Nxa1', 'Nxe4,Nb3+,axb3', 'https://lichess.org/training/hSHlB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hSIwi', 'Rapid', 'STATESMEN', 2080, 'Phil_Ramz92', 1746, 'd4,e6,Nf3,b6,e4,Bb7,Bd3,g6,c3,Bg7,e5,Ne7,Bg5,O-O,h4,f6,exf6,Bxf6,Bxf6,Rxf6,h5,Qf8,Nbd2,Bxf3,Nxf3,Nf5,hxg6,Rxg6,Ne5,Rxg2,Qh5,Qg7,Be4,Rg1+,Rxg1,Qxg1+,Ke2,Qg7,Rg1,Qxg1,Qf7+,Kh8', 'Qf8+,Qg8,Nf7#', 'https://lichess.org/training/hSIwi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hsizT', 'Rapid', 'Chess-set', 1612, 'Paralian', 1645, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,Nf6,Re1,Ne5,Bxd7+,Nexd7,Nc3,Be7,Nf5,O-O,Nxe7+,Qxe7,Qd4,c5,Qd1,h6,Nb5,Ne8,Bf4,Ne5,Bxe5,Qxe5,Qd3,a6,Nc3,b5,Rad1,Rd8,Nd5,Qxb2,e5,dxe5', 'Ne7+,Kh8,Qxd8', 'https://lichess.org/training/hsizT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hSJ8Z', 'Classical', 'wknezevic', 1625, 'adiyamanman', 1632, 'd4,e5,Nf3,e4,Ne5,d5,Bf4,Nf6,e3,Bd6,c3,O-O,Nd2,Nc6,Bg3,Nxe5', 'dxe5,Bxe5,Bxe5', 'https://lichess.org/training/hSJ8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HSJBm', 'Blitz', 'NM JBakker', 2461, 'Corocoronando', 2480, 'e4,e5,Nc3,Nf6,Bc4,Bc5,f4,d6,Nf3,Nc6,d3,Bg4,h3,Bxf3,Qxf3,Nd4,Qg3,Nh5,Qg4,g6,Kd1,c6,fxe5,dxe5,Rf1,Rf8,Bh6,f5,Bxf8,fxg4,Bxc5,Nf4,g3,Nfe6,Ba3,gxh3,Ne2,Qg5,c3,Qg4,cxd4,Nxd4,Rf2,O-O-O,Kd2,Nf3+,Kc2,h2,Raf1,Ng1,Rxh2,Nxe2,Rxh7,Nd4+,Kb1,Qe2,Rc1,Nf3,Be6+,Kb8,Be7,Nd2+,Ka1,Qxd3,Bxd8,Qxd8,Rg7,a5', 'Rg8,Qxg8,Bxg8', 'https://lichess.org/training/HSJBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hsJTq', 'Rapid', 'WackyIraqiLove2', 1734, 'pagadix', 1649, 'Nf3,c5,c4,d6,Nc3,e6,e3,a6,d4,cxd4,exd4,Nf6,Bd3,Be7,Qc2,h6,O-O,O-O,Re1,Nbd7,h3,Rb8,Bf4,Nh5,Bh2,Re8,c5,e5,dxe5,Nxc5,g4,dxe5,gxh5,Nxd3,Rad1,Bf5,Nxe5,Nxe1,Qxf5,Qxd1,Qxf7+,Kh7,Nxd1,Bc5,Qf5+,Kg8,Nd7,Rbd8,Nxc5,Rxd1,Ne6', 'Nf3+,Kg2,Nh4+,Kg3,Nxf5+', 'https://lichess.org/training/hsJTq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hsjuh', 'Blitz', 'balamutas46', 1606, 'lemonia', 1668, 'e4,c5,Nf3,d6,Bc4,Nf6,Qe2,e6,c3,Be7,d4,cxd4,cxd4,Qc7,Bb3,O-O,Nc3,Nc6,e5,dxe5,dxe5,Nd7,Bf4,a6,O-O,b5,Rfe1,Bb7,Rad1,Bb4,Ng5,h6,Nxe6,fxe6,Bxe6+,Kh7,Rxd7,Qb6,Qe4+,Kh8,Bxh6', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/hsjuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HSkaF', 'Rapid', 'sleepyhallow', 1690, 'neuromanc', 1718, 'e4,e5,g3,d6,Bg2,Nc6,c3,Nf6,d4,exd4,cxd4,d5,e5,Ne4,Nc3,Bf5,Nge2,Bb4,O-O,Qd7,Nf4,Bxc3,bxc3,g5,Nh5,O-O-O,Bxg5,Nxg5,f3,Bh3,Nf4,Bxg2,Kxg2,h5,h4,Ne6,Nxe6,Qxe6,f4,Rhg8,f5,Qh6,Qe2,Qg7,Rf3,Qg4,Qe3,Rg7', 'Rf4,Qxg3+,Qxg3,Rxg3+,Kxg3', 'https://lichess.org/training/HSkaF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hSkIO', 'Blitz', 'sherlycko', 1902, 'kbpDalius', 1823, 'd4,d5,Nf3,g6,Nc3,c6,Bf4,Bg7,e3,Nf6,Bd3,O-O,h4,Bg4,Be2,Nbd7,Ng5,Bxe2,Qxe2,Nh5,Bh2,e5,g4,exd4,gxh5,dxc3,hxg6,cxb2,gxh7+,Kh8,Rb1,Nc5,Qh5,Ne4,Nxf7+,Rxf7,Qxf7,Qa5+,Kf1,Nd2+,Kg2,Nxb1,Rxb1,Qxa2,h5,Qxb1,h6,Bc3,Qf5,Qd1', 'Be5+,Bxe5,Qxe5+,Kxh7,Qg7#', 'https://lichess.org/training/hSkIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hSKV6', 'Rapid', 'ScaryMore', 1668, 'Harvey_Spectr', 1705, 'd4,Nf6,c4,e5,dxe5,Ng4,e3,d6,exd6,Bxd6,Be2,Nf6,Nc3,O-O,Nf3,Qe7,O-O,Rd8,Qc2,Nc6,a3,Bg4,e4,Bxf3,Bxf3,Qe5,g3,Nd4,Qd1,Nxf3+,Qxf3,h6,Bf4,Qe6,e5,Bxe5,Rfe1,Nd7,Nd5,c6,Nc7,Qe7,Nxa8,Rxa8,Rad1,f6,b4,Qf7,b5,Bxf4,Qxf4,Ne5,Rd4,Qh5,Kg2,cxb5,Rd5,bxc4,Qxc4', 'Qf3+,Kg1,Nxc4', 'https://lichess.org/training/hSKV6');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 17;
-    }
-
-}
\ No newline at end of file
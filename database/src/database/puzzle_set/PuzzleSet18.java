@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet18 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HSkzg', 'Rapid', 'wawrel', 1806, 'Gkhan27', 1744, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,c3,Bg7,Qb3,Nf6,e5,Ng4,d4,cxd4,cxd4,Be6,Qxb7,Bd5,Nbd2,Bh6,h3,Bxf3,Nxf3,Bxc1,Qxc6+,Kf8,Rxc1,Nh6,O-O,Nf5,d5,Kg7,e6,f6,Rfd1,Qb8,b3,Qf4,Rc4,Qd6,Qa4,Rhb8,Nd4,Nxd4,Rdxd4,a5,Rc6,Qe5,Qc4', 'Rb4,Rd1,Rxc4', 'https://lichess.org/training/HSkzg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hSL0Q', 'Rapid', 'aryanii', 2022, 'isralov', 1894, 'e4,c5,Nf3,b6,d4,Bb7,Bd3,c4,Bxc4,Bxe4,Nc3,Bb7,Bxf7+,Kxf7,Ne5+,Kf6,Qg4,g6,Bg5+,Kg7,O-O-O,Nf6,Bxf6+,exf6,Nd3,Kf7,h4,Bh6+,Kb1,Nc6,h5,f5,Qf3,Na5,Ne5+,Kg7,Qg3,g5,Rhe1,d6,Nf3,Bxf3,Qxf3,Qf6', 'Nd5,Qf7,Re7', 'https://lichess.org/training/hSL0Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hslbs', 'Rapid', 'Luxone', 1789, 'ellargo', 1903, 'e4,c5,c4,Nc6,Nf3,d6,h3,Nf6,Nc3,e6,d3,h6,Bf4,a6,Be2,Be7,O-O,Nd4,e5,dxe5,Bxe5,O-O,Qd2,Nxe2+,Qxe2,Nd7,Rad1,Nxe5,Qxe5,Bd6,Qe3,Qf6,d4,Bf4,Qe4,Rb8,Ne2,Bc7,b3,b6,Qc6,Rb7,d5,exd5,Qxf6,gxf6,Rxd5,Be6,Rd2,b5,cxb5,axb5,g4,Re8,Kg2,Bb8,Ng3,c4,Ne4,Kg7,Nd6,Bxd6,Rxd6,cxb3,axb3,Bxb3,Nd4,Bc4,Rb1,Re5,Nf5+,Kg6,Rd4,Rc7,Nd6,Bd5+,Kg1,Rc3,Rxb5', 'Re1+,Kh2,Rh1#', 'https://lichess.org/training/Hslbs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HSlJg', 'Blitz', 'spvic', 1821, 'bergeron', 1855, 'e4,c6,d4,d5,exd5,cxd5,c4,e6,Nc3,Nf6,Bf4,a6,Nf3,Bd6,Bxd6,Qxd6,cxd5,exd5,Bd3,O-O,O-O,Bg4,h3,Bh5,Be2,Nc6,Qb3,Rab8,Rac1,Bg6,Rfd1,Rfe8,Bd3,Bxd3,Rxd3,b5,Rd2,Na5,Qc2,Nc4,Re2,Qd7,b3,Nb6,Ne5,Qd6,Rce1,Rec8,Qd3,b4,Nd1,Nbd7,Nxd7,Qxd7,Qxa6,Qf5,Ne3,Qf4,Nxd5,Nxd5', 'Qxc8+,Rxc8,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/HSlJg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HsLxL', 'Blitz', 'Yero_mobile', 1714, 'Akshay2129', 1707, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,Bd7,Qe2,Be7,Nc3,O-O,O-O,c6,dxc6,Nxc6,d3,Nd4,Qxe5,Bxb5,Nxb5,Nxc2,Rb1,Qxd3,Qxe7,Rae8,Qxb7', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/HsLxL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HsMUK', 'Rapid', 'mahmoodms', 1735, 'UrielSpb', 1669, 'e4,e5,f4,Nc6,Nf3,exf4,d4,d5,exd5,Qxd5,Bxf4,Bd6,Nc3,Qe6+,Be5,Bxe5,dxe5,Nxe5,Nxe5,Qxe5+,Qe2,Qxe2+,Bxe2,Nf6,O-O,O-O,Bd3,Ng4,h3,Ne3,Rfe1,Re8,Nd5,Bf5,Rxe3,Rxe3,Nxe3,Bxd3,cxd3,Rd8,Rd1,Re8,Kf2,g6,Nd5,Kg7,Nxc7,Re7,Nd5,Rd7,Nb4,h5,d4,f5,Kf3,a5,Nc2,g5,g4,fxg4+,hxg4,Rf7+,Kg3,h4+,Kh3,Rf3+,Kg2,Rg3+,Kf2,Rxg4,Ne3,Rf4+,Ke2,h3,d5,g4,d6,g3,d7,Rf2+,Ke1', 'h2,Nf5+,Rxf5', 'https://lichess.org/training/HsMUK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hsn3U', 'Rapid', 'Syarzhuk', 1676, 'alexkochev', 1711, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd3,Bc5,a3,d6,Nc3,Nf6,Be3,Ne5,Qd2,Bxe3,Qxe3,Be6,f4,Nc6,h3,Qe7,O-O-O,O-O-O,Bb5,Bd7,Bxc6,Bxc6,Qxa7,Kd7,e5,Ra8,exf6,Qxf6,Qf2,Rhe8,Nf3,Qxf4+,Kb1,Re3,Rhf1,Bxf3,gxf3,Re5,Rfe1,Rf5,Re3,g5,Rde1,Rf8,Re7+,Kd8,Qa7,Re5,Qb8+,Kxe7,Qxc7+,Ke8,Qc8+,Ke7', 'Nd5#', 'https://lichess.org/training/hsn3U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hsNW5', 'Rapid', 'Gauravgrt', 1789, 'valona', 1783, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,d6,Nxd4,Be7,Nxc6,bxc6,Bg5,O-O,Nc3,d5,Bb3,d4,Bxf6,Bxf6,Ne2,c5,f4,Be6,f5,Bxb3,axb3,Re8,Ng3,Be5,Nh5,f6,Qg4,Qe7,Nf4,Bxf4,Rxf4,c6,Qh5,Qe5,Rh4,h6,Qg6,Kf8,Rf1,a5,Rg4,Re7,Rf3,a4,Rfg3,axb3,Qh7,Ra1+,Kf2,Ke8,Qg8+,Kd7,Rxg7,Qxe4', 'Rxe7+,Qxe7,Rg7,Qxg7,Qxg7+', 'https://lichess.org/training/hsNW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hSoYq', 'Blitz', 'adrianospneves', 2198, 'DemolidorSagazzz', 1904, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be3,a6,Bd3,Be7,O-O,O-O,Nde2,d5,exd5,Nxd5,Nxd5,Qxd5,Nc3,Qd8,f4,Bf6,Qe1,b5,Rd1,Qc7,Be4,Bb7,Bc5,Rfd8,f5,Ne5,Bxb7,Qxc5+,Kh1,Rxd1,Qxd1,Rd8,Qe1,Qb6,Be4,Nc4,fxe6,Qxe6,Qg3,Nd2,Re1,Qc4,Bd3,Qb4,Nd5,Qxb2,Qc7,Rf8,Nb6,Be5,Qc5,Bd4', 'Qxf8+,Kxf8,Nd7+,Kg8,Re8#', 'https://lichess.org/training/hSoYq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hsP3A', 'Blitz', 'CM mikromurks', 2381, 'sinax121', 2257, 'e4,c5,d4,cxd4,c3,g6,cxd4,d5,e5,Bg7,Nc3,Nc6,h3,Nh6,g4,f6,f4,Nf7,Nf3,O-O,Bg2,fxe5,dxe5,b6,Qxd5,Bb7,Qxd8,Raxd8,O-O,Na5,b3,g5,Ba3,Rfe8,Nb5,Rc8,fxg5,Nxe5,Nxe5,Bxe5,Rae1,Bg3,Rxe7,Rxe7,Bxe7,Rc2,Bxb7,Nxb7,Rf3,Bh2+,Kf1,Be5,Rf5,Bg3,Rf3,Be5,Rd3,Rxa2,Rd7,Nc5,Rxa7,Rb2,Bf6,Bg3,Rg7+,Kf8,Rxh7,Rxb3,Nc7,Rb2,Be7+,Kg8,g6,Rf2+,Kg1,Nd3,Bg5,Ne5,Bf6', 'Nf3+,Kh1,Rh2#', 'https://lichess.org/training/hsP3A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HspKV', 'Blitz', 'niels_lorenz', 1694, 'pats10536', 1751, 'e4,c5,Nc3,Nc6,Bc4,e6,a4,Nf6,f4,d5,exd5,exd5,Ba2,Bf5,d3,d4,Nce2,Be7,h3,O-O,g4,Be6,Bxe6,fxe6,Ng3,Nd5,N1e2,Bh4,Rg1,Qf6,Bd2,Rae8,c3,e5,cxd4,exd4,Qc2,Nxf4,Bxf4,Qxf4,Kd1,Qf2,Ne4,Qf7,Nd6,Rxe2,Qxe2,Qb3+,Kc1,Nb4,Ra3,Bg5+,Kb1,Qd5,Nc4,a6,Nb6,Qd6,Nc4,Qd5,Rf1,b5,Rxf8+,Kxf8,Qf2+,Kg8,Nb6', 'Qh1+,Qg1,Qxg1#', 'https://lichess.org/training/HspKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hSPly', 'Classical', 'Cedrus_Deodara', 1607, 'gentlyne', 1712, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bg4,Be2,e6,Ne5,Bxe2,Nxe2,Bd6,O-O,O-O,Bg5,h6,Bh4,Nbd7,Nxd7,Qxd7,Bxf6,gxf6,f4,f5,Qe1,Kh7,Rf3,Rg8,Rg3,Rg6,Rxg6,fxg6,Rd1,c6,c4,b6,d5,Bc5+,Kh1,exd5,Ng1,Re8,Qc3,d4,Nf3,Re3', 'Qxe3,dxe3,Rxd7+', 'https://lichess.org/training/hSPly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hsRB5', 'Rapid', 'pezi06', 2034, 'keyvan777', 2047, 'd4,Nf6,c4,e6,g3,d5,Nf3,c6,Bg2,Bd6,O-O,O-O,Nc3,dxc4,Nd2,Nd5,Nxc4,Na6,Nxd6,Qxd6,e4,Nxc3,bxc3,b6,e5,Qd7,Qh5,g6,Qh6,f6,exf6,Rxf6,Bg5,Rf7,h4,Bb7,h5,gxh5,Bf6,Nc7,Be5,Nd5,Bh3,Re8,c4,Nc3,Rae1,Ba6,d5,Bxc4,dxe6,Bxe6,Bxe6,Rxe6,Qxh5,Nd5,Bd4,Rg6,Re4,Qf5', 'Re8+,Rf8,Qxf5', 'https://lichess.org/training/hsRB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HSrFc', 'Blitz', 'Gordius007', 2114, 'FM Fluke180', 2473, 'd4,c6,c4,d5,Nf3,Nf6,e3,a6,b3,Bg4,h3,Bxf3,Qxf3,Nbd7,Nc3,e6,Bd3,Bb4,Bd2,Qa5,Nb1,b5,Qe2,Rb8,O-O,O-O,Bxb4,Qxb4,cxd5,cxd5,Nd2,Rfc8,Rfc1,Qa3,Qd1,e5,dxe5,Nxe5,Bf5,Rd8,Nf3,Nxf3+,Qxf3,d4,Rd1,dxe3,Qxe3,g6,Qe5,Nh5,Bg4,Ng7,Qc7,Qf8,Re1,h5,Bf3,Ne6,Qe5,Qd6,Qf6,Nd4', 'Re8+,Rxe8,Qxd6', 'https://lichess.org/training/HSrFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hSS5n', 'Rapid', 'budhachess', 2140, 'pifagor_muzhik', 2131, 'c4,e6,g3,d5,Bg2,Nf6,Nf3,c6,b3,Bd6,O-O,O-O,Bb2,Nbd7,d3,b6,Nbd2,Bb7,e4,Bc7,cxd5,cxd5,h3,dxe4,Nxe4,Nxe4,dxe4,Bxe4,Rc1,Rc8,Qe1,Bd3,Qc3,Be5,Qxc8,Qxc8,Rxc8,Rxc8,Nxe5,Bxf1,Nxd7,Bxg2,Kxg2,Rc2,Be5,Rxa2,Nb8,Ra3,b4,Rb3,Nc6,a6,Bd6,Rd3,Be5,f6,Bf4,e5,Be3,Rd6,Ne7+,Kf7,Nf5,Rc6,Kf3,b5,Bc5,a5,Nd6+,Ke6,Ne4,axb4,Bxb4,h6,h4,f5,Nc5+,Kd5,Nd7,g5,hxg5,hxg5,Ke2,Ke4,Nc5+,Kd5,Nd3,e4,Ne1,Rc4,Be7,g4,Ng2,b4', 'Ne3+,Ke6,Nxc4', 'https://lichess.org/training/hSS5n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HSt1F', 'Classical', 'Alshahat17', 1846, 'suhankhan', 1895, 'd4,d5,Bf4,e6,a3,c5,e3,Nd7,dxc5,Bxc5,Nc3,Ngf6,Nb5,e5,Bg3,a6,Nc3,O-O,Nxd5,Nxd5,Qxd5,Re8,Bc4,Qa5+,c3,Re7,Bh4,Nf6,Bxf6,Be6,Qd3,Rd8,Qe2,gxf6,b4,Bxb4,cxb4,Qc7,Bxe6', 'Qc3+,Kf1,Qxa1+', 'https://lichess.org/training/HSt1F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HStk3', 'Rapid', 'rodelresultay_77', 1890, 'Ilyas-Cabbarov', 1838, 'e4,e6,Nc3,d5,exd5,exd5,g3,Nf6,Bg2,Be6,Nf3,Nc6,O-O,Be7,d4,h6,Be3,Bf5,a3,O-O,Ne5,Ne4,Nxc6,bxc6,Nxe4,Bxe4,Bxe4,dxe4,Qg4,f5,Qe2,g5,f4,g4,b4,Bf6,Rfd1,Kg7,Rac1,h5,c4,h4,d5,hxg3,hxg3,Rh8,dxc6,Qe8,Rd7+,Be7,Bd4+,Kf7,Bxh8,Qxh8,Qh2,Qg7,Qh5+,Kf6,Qh2,Rh8,Qd2,Qh6,Qg2,Kf7,b5,Ke6,a4', 'Bc5+,Kf1,Qh1+,Qxh1,Rxh1+,Ke2,Rxc1', 'https://lichess.org/training/HStk3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hsv4E', 'Classical', 'Maki16', 1816, 'saulgoodman87', 1713, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Bd6,Nf3,Bg4,h3,Bh5,g4,Bg6,Nxe5,Bxe5,Bxe5,Nf6,Qf3', 'Be4,Bxc6+,bxc6,Qg3,Bxh1', 'https://lichess.org/training/Hsv4E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hSvFY', 'Rapid', 'karenharut', 1908, 'PhysBoom', 1838, 'e4,e6,d4,d5,e5,c5,f4,Nc6,Nf3,Qb6,c3,Bd7,b3,cxd4,Nxd4,Nxd4,cxd4,Bb4+,Kf2,Ne7,a3,Ba5,b4,Bxb4,axb4,Qxb4,Be2,Rc8,Rf1', 'Rxc1,Qxc1,Qxd4+,Qe3,Qxa1', 'https://lichess.org/training/hSvFY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HSvpr', 'Rapid', 'Leviathan87', 1646, 'ivanlara', 1714, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Bf5,Nf3,Bg4,Be2,e6,Bf4,Bd6,Bxd6,Qxd6,h3,Bf5,Bd3,Bxd3,Qxd3,a6,Ng5,h6,Nf3,Nf6,O-O-O,Nbd7,Ne5,Nxe5,dxe5,Qxe5,Rhe1,Qg5+,Kb1,O-O,g3,Rfd8,f4,Qh5,g4,Qh4,g5,hxg5,fxg5,Qxg5,Rg1,Qf5,Qe3,Rd7,Qh6,g6,h4,Qh5,Qxh5,Nxh5,Rg5,Rad8,Rdg1,Kh7,Kc1,Nf4,R5g4,e5,Kd2,f5,R4g3,Rd6,Na4,b6,b3,d4,Nb2,b5,Nd3,Nxd3,cxd3,Re8,h5,gxh5,Rg5,Kh6,Rxf5,e4,dxe4,Rxe4,Rf8,Rg4,Rgf1,Kg5,Rg8+,Rg6,Rh8,h4,Rh1,Rh6,Rg8+,Kf4', 'Rf1+,Kg3,Rg1+', 'https://lichess.org/training/HSvpr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hsvv3', 'Rapid', 'lucioc84', 2037, 'siavash1351', 2061, 'd4,f5,Nf3,e6,e3,d5,c4,c6,Nc3,Nf6,Be2,Bb4,O-O,O-O,a3,Be7,b4,a6,c5,b6,Na4,Nbd7,Ne5,Nxe5,dxe5,Nd7,cxb6,Nxb6,Nxb6,Qxb6,Bb2,Bd7,Bd4,Qc7,a4,Bxb4,a5,c5,Bb2,c4,Ba3,Bxa3,Rxa3,Qxe5,Qc2,Rab8,g3,Qd6,Rfa1,Rb5,Qd2,Rfb8,Bxc4,Rb2,Qd3,Bb5,Bxb5,R2xb5,Kg2,Qc6,Kh3,Rc5,Qd4,Rbb5,Qe5,Kf7,g4,fxg4+,Kxg4,Rc4+,Kh3,Rbb4,f4,h6,Rg1,g6,Qh8,Qc8,Qxh6,e5+,Kg2,exf4,Kh1,Qf5,Qh7+,Kf6,Qh8+,Ke6,Qe8+,Kd6', 'Rxg6+,Qxg6,Qxg6+', 'https://lichess.org/training/Hsvv3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HSWIX', 'Blitz', 'MAMehrizi', 1558, 'dgngggl', 1551, 'e4,e6,d4,c5,dxc5,Bxc5,Bf4,Nc6,Nc3,a6,Nf3,d6,Bc4,b5,Bb3,Qb6,O-O,Bb7,Bxd6,Bxd6,Qxd6,Rd8,Qg3,Nf6,Qxg7,Ke7,e5,Rhg8,Qxf6+,Ke8,Ng5,Rd7,Nxh7,Nd4,Rad1,Bxg2,Ng5,Nf3+,Kxg2,Rxg5+,Kxf3,Qb7+,Ne4,Rf5+,Qxf5,exf5,Rxd7', 'Qxe4+,Kg3,Qg4#', 'https://lichess.org/training/HSWIX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hSx1o', 'Rapid', 'risingdxbstar', 1663, 'breehze', 1659, 'e4,e5,d3,Nf6,h3,Bc5,Nd2,O-O,Nb3,Bb6,Qf3,d6,Be2,Be6,Qg3,g6,Bh6,Re8,h4,d5,exd5,Qxd5,h5,Qd7,hxg6,fxg6,Bg5,Bg4,Bxf6,Bxe2,Nxe2,Rf8,Qf3,Qe6,Qxb7,Nd7,Bh4,Rab8,Qa6', 'Bxf2+,Bxf2,Qxa6', 'https://lichess.org/training/hSx1o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HsZKV', 'Classical', 'Bormenkov', 1791, 'iliberis67', 1814, 'd4,d5,c4,e5,cxd5,Qxd5,Nc3,Bb4,Qa4+,Nc6,Bd2,Bxc3,Bxc3,Nf6,dxe5,Ne4,Rd1,Qe6,Nf3,Nxc3,bxc3,O-O,e3,Nxe5,Be2,c6,O-O,b5,Qh4,Ng6,Qd4,Qxa2,h4,Qxe2,h5,Ne7,h6,Nf5,Qd8,Be6,Qc7,Nxh6,Ng5,Bd5,e4,Bxe4,Rfe1,Qc2,Nxe4,a5,Rd2,Qa4,Red1,Qxe4,Rd8,Qh4,g3,Qf6,R8d6,Qg5,Qxc6,Rae8,R1d5,Re1+,Kg2,Qc1,Rd8,Ree8,Rxe8,Qa3,Rdd8,g6,Rxf8+,Kg7,Rfe8,Qb2,Rb8,Ng4,Qf3,Nh6,g4,Qc1,Rxb5,a4,Re7,a3,g5,Nf5,Ra7', 'Nh4+,Kg3,Nxf3', 'https://lichess.org/training/HsZKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hszl7', 'Rapid', 'antiboo', 1771, 'boneshrimp', 1684, 'g4,d6,g5,g6,Bg2,h6,f4,Bg7,Nc3,e5,d3,Nd7,Nf3,Ne7,h4,Nc5,Be3,Ne6,fxe5,dxe5,Ne4,Nd5,Qd2,Nxe3,Qxe3,Nf4,Kf2,Bg4,Nxe5,Bxe5', 'Nf6+,Kf8,Qxe5', 'https://lichess.org/training/Hszl7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HT09K', 'Blitz', 'rickyge', 1650, 'sorena_hbk', 1642, 'e4,e5,Bc4,Qf6,Nc3,c6,Nf3,d6,a3,Be7,d3,Qg6,Rg1,h5,Be3,Bg4,Qd2,Bxf3,Bxf7+,Kxf7,d4,Bg4,dxe5,dxe5,f3,Bc8,Ne2,Qd6,Qb4,Qxb4+,axb4,Bxb4+,c3,Be7,Ng3,b6,O-O-O,h4,Ne2,c5,g3,h3,f4,exf4,Nxf4,Bg5,Rd8,Nc6,Rd6,Bxf4,gxf4,Bb7,Rd7+,Nge7,Rxb7,a5,e5,a4,f5,Ke8,f6,gxf6,exf6,Nd5', 'f7+,Kf8,Bh6+,Rxh6,Rg8#', 'https://lichess.org/training/HT09K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ht2kT', 'Classical', 'Gothard', 1755, 'Phaulgo', 1755, 'd4,d5,Nf3,e6,Bf4,Nf6,e3,Be7,h3,O-O,c4,c5,cxd5,Nxd5,Bg3,cxd4,Nxd4,Qa5+,Qd2', 'Bb4,Nc3,Nxc3', 'https://lichess.org/training/ht2kT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HT3nG', 'Rapid', 'Gaga78', 1696, 'satin1965', 1717, 'g3,e5,Bg2,Nf6,e3,d5,Ne2,e4,d3,Bf5,O-O,Bd6,f3,exf3,Rxf3,Bg4,Rf1,O-O,h3,Be6,e4,dxe4,dxe4,Bc5+,Kh1,Qd7,Nf4,Nh5,Nxe6', 'Nxg3+,Kh2,Nxf1+', 'https://lichess.org/training/HT3nG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hT3rl', 'Blitz', 'ash1445', 1723, 'Aljiji', 1760, 'd4,d6,c4,c6,e3,e6,Nf3,Bd7,Be2,Be7,O-O,Nf6,h3,O-O,Bd2,d5,cxd5,exd5,Nc3,Bb4,Rc1,Bxc3,Rxc3,Ne4,Rc2,Nxd2,Qxd2,Na6,a3,c5,dxc5,Rc8,b4,Bc6,Bxa6,bxa6,Rfc1,Bd7,Qxd5,Bc6,Qxd8,Rcxd8,Nd4,Be4,Rc3,Bc6,Nxc6,Rc8,Nd4,f5,a4,f4,exf4,Rxf4,Ne6,Re4,b5,Rxe6,bxa6,Rxa6,Rc4,g6,Kf1,Rac6,Ke2,a6,a5,h5,Ke3,Kf7,Kd4,Rd8+,Ke3,Kf6,Rf4+,Kg5,Rf7', 'Re6+,Kf3,Rd3#', 'https://lichess.org/training/hT3rl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hT4iL', 'Rapid', 'marceloarc', 1847, 'vvaassee', 1878, 'e4,c5,f4,Nc6,Nf3,d6,Nc3,g6,Bc4,h6,O-O,Bg7,e5,dxe5,fxe5,Nd4,Nxd4', 'Qxd4+,Rf2,Qxc4', 'https://lichess.org/training/hT4iL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hT5xr', 'Classical', 'MoiRon', 1969, 'BewaretheCat', 1958, 'f4,Nf6,Nf3,d5,e3,Bg4,c4,e6,cxd5,exd5,Be2,Nbd7,O-O,c6,b3,Bd6,Ba3,Qc7,Bxd6,Qxd6,d4,O-O-O,Ne5,Bxe2,Qxe2,Qe7,Nc3,Nxe5,fxe5,Nd7,Rac1,Kb8,e4,Qb4,Qe3,dxe4,Nxe4,Rdf8,Rc4,Qa5,Ra4,Qd8,d5,Nb6,dxc6,Nxa4,bxa4,Qb6,Nc5,Qxc6,Rb1,Rd8', 'Rxb7+,Qxb7,Nxb7', 'https://lichess.org/training/hT5xr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hT6i0', 'Classical', 'Spasoje93', 1898, 'AGUAPARADA', 1926, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf5,d5,Ng3,d4,Nce2,Qa5+,Bd2,Bb4,a3,Bxd2+,Qxd2,Qxd2+,Kxd2,O-O,h4,Ng4,f3,Ne3,c3,Nc4+,Kc2,Ne3+,Kb1,d3,Ng1,d2,Be2,d1=R+,Bxd1,Nxd1,Ka2,Ne3,Rh2,f5,b3,fxe4,Nxe4,b6,Re1,Nd5,Rd1,Nf6,Rd6,Bb7,g4,Nxe4,fxe4,Rf1,Nh3,Raf8,Rd7,Nd8,Rhd2,Bxe4,Rxd8,h6,g5,Rf3,Rxf8+,Rxf8,gxh6,gxh6,Re2,Bf5,Ng1,Re8,Nf3,e4,Nd4,Bg4,Re3,h5,b4,Kg7,Kb3,Kf6,Nb5,Ke5,Nxa7,Kf4,Re1,e3,Kc2,e2,Nb5,Kg3,Nd4,Kf2,Kd2,Ra8,Nxe2,Rxa3,Nd4', 'Ra2+,Kd3,Kxe1', 'https://lichess.org/training/hT6i0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('htaW7', 'Rapid', 'Marinko27', 1796, 'imrik', 1807, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d4,Bb4+,Nc3,Qe7,Bg5,Bxc4+,Be2,Nc6,Nf3,O-O-O,a3,Bxc3+,bxc3,Rhe8,Bxf6,gxf6,Ng1,Ne5,h4,Nd3+,Kf1,Nb2,Qd2,Bxe2+,Nxe2,Nc4,Qd3,Ne5,Qf5+,Nd7,Re1,Qxa3,Rh3,Re6,Qxh7,Rde8,Qxf7,Rxe2', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/htaW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hTb8d', 'Blitz', 'GhDakkak', 1938, 'Alpaldemir', 1903, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,c3,Bg4,b4,Bb6,a4,a5,b5,Nb8,Qb3,Bh5,Ng5,Nh6,f4,Qf6,f5,Nd7,h3,Nc5,Qa2,Nxf5,exf5,h6,g4,hxg5,gxh5,Rxh5,Be3,Qxf5,Rf1,Qxh3,Bxf7+,Kd8,Bxh5,Qxe3+,Qe2', 'Nxd3+,Kd1,Qc1#', 'https://lichess.org/training/hTb8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hTEGs', 'Rapid', 'corvin83', 1812, 'JohniStyle', 1824, 'd4,e6,e4,d5,e5,f6,Nf3,c5,c3,cxd4,cxd4,Bb4+,Bd2,Qa5,a3,Bxd2+,Nbxd2,fxe5,Nxe5,Nf6,b4,Qb6,Nb3,Nbd7,Nc5,Nxe5,dxe5,Ne4,Qa4+,Ke7,Rc1,Rf8,f3,Ng5,Qc2,g6,Bd3,Qc7,O-O,Qxe5,Rce1,Qd4+,Kh1,b6,Nb3,Qf4,Qc3,Bd7,Qd2,Qf6,Bb1,Bc6,Nd4,Bd7,Ba2,Kf7,h4,Nh3,gxh3,Qxh4,Kh2,e5,Bxd5+,Kg7,Qg2,Rae8,Nc6,Bxc6,Bxc6,Re7,Re4,Qf6,Bd5,Rd7,Bb3,Rd3,Bc2,Rxa3,Qg4,Ra2,Re2,e4,f4,Qc6,Rff2,e3,Rg2,Qd6,Kh1,Rxf4,Qg3,Rf1+,Kh2,Qxg3+,Kxg3,Ra3,h4,Rf5,Kh3,Rd5,Rg3,Rd2,Rexe3', 'Rxe3,Rxe3,Rxc2', 'https://lichess.org/training/hTEGs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('htEWa', 'Classical', 'Soukri', 1885, 'thionate', 1942, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,dxc4,Bxc4,O-O,Nf3,c5,O-O,cxd4,Nxd4,Bd7,Bd3,Nc6,Rc1,Nxd4,exd4,h6,Bxf6,Bxf6,d5,exd5,Nxd5,Bxb2,Rb1,Be5,Rxb7,Bc6', 'Ne7+,Kh8,Nxc6', 'https://lichess.org/training/htEWa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('htFNN', 'Rapid', 'WhisperingXylophone', 2342, 'OysterBand', 2324, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,O-O,Nc2,Bg5,a4,Rb8,axb5,axb5,Bd3,Ne7,Ncb4,Nxd5,Nxd5,Be6,Nb4,Qd7,O-O,g6,Qe2,Kh8,Ra5,f5,exf5,gxf5,Bxb5,Qg7,Rfa1,Rg8,g3,f4,Ra7,Qf6,Bd3,Rg7,Qe4,Qh6,Ra8,Rbg8,Rxg8+,Bxg8,Ra8,fxg3,hxg3,Bf4,Kf1,Bc1,Bc4,Bxb2,Nd5,Qh3+,Ke2,Qh5+,Kd2,Qh6+,Kc2', 'Qc1+,Kb3,Rb7+', 'https://lichess.org/training/htFNN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HtGbR', 'Rapid', 'TenAndOnly10', 1888, 'drbobmobber', 1896, 'e4,c5,c3,Nc6,d4,e6,a3,d5,e5,Qb6,b4,cxd4,Nf3,dxc3,Nxc3,a6,Bd3,Bd7,h3,Nd4,Na4,Nxf3+,gxf3,Qd4,Be3,Qxe5,Nb6,Rd8,Rc1,d4,Nc4,Qd5,Be4,Qh5,Bxd4,Bb5,a4,Bxc4,Rxc4,e5,Bxb7,exd4,Bc6+,Ke7,Qe2+,Kf6,Rc5,Bxc5,bxc5,Qxc5,Be4,Re8,Qd2,Qd5', 'Qf4+,Ke6,Bxd5+', 'https://lichess.org/training/HtGbR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('htJOe', 'Rapid', 'Jafarliali', 1915, 'Igor1989skokov', 1873, 'e4,e5,Nf3,d6,Bc4,Nc6,c3,a6,d4,exd4,cxd4,Be7,Nc3,Nf6,Qb3,O-O,Ng5,Qe8,O-O,Na5,Qb4,Nxc4,Qxc4,c6,Bd2,h6,Nf3,Be6,Qd3,b5,a3,Bc4,Qc2,Bxf1,Rxf1,Nh7,Re1,Qd7,e5,d5,Ne2,Rac8,b4,Rfe8,Nf4,Ng5,Nxg5,Bxg5,Qd3,Bxf4,Bxf4,Qg4,Bg3,Re6,h3,Qh5,Re3,Qg6,f4,Qxd3,Rxd3,g6,Bh4,Kh7,Bf6,Ra8,f5,gxf5,Rf3,Kg6,Rg3+,Kh5,Rg7,a5', 'g4+,fxg4,hxg4#', 'https://lichess.org/training/htJOe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hTKQj', 'Blitz', 'podjevsky', 2084, 'LuenoOne', 2015, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bf5,O-O,Bd6,c4,dxc4,Bxe4,Bxe4,Re1,f5,Nc3,O-O,Nxe4,fxe4,Rxe4,b5,Bg5,Qc8,Ne5,Nd7,Qh5,Nf6,Bxf6,Rxf6,Rh4,h6,Re1,Bxe5,dxe5,Rf5,Qg6,Rg5,Qc6,Rb8,e6,Rb6,Qd7,Rb8,Qf7+,Kh7,Re3,Qe8,Rxh6+,Kxh6', 'Rh3+,Rh5,Rxh5#', 'https://lichess.org/training/hTKQj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hTLBK', 'Bullet', 'Bignullard', 1789, 'Markinhos', 1850, 'e4,c5,f4,e6,Nf3,Nc6,Bb5,d5,e5,a6,Bxc6+,bxc6,O-O,Ne7,d3,Nf5,Nc3,a5,Ne2,Ba6,b3,Be7,Qe1,O-O,Ng3,Nd4,Nxd4,cxd4,f5,exf5,Nxf5,Bc8,Nxe7+,Qxe7,Qg3,Kh8,Bg5,Qc7,Rf2,Ra6,Raf1,Be6,Rf6,c5,R1f4,c4,Rh4,cxd3,Bh6,Rg8,Bg5,dxc2', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/hTLBK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HTnhT', 'Blitz', 'issammaroc', 1689, 'skaret', 1700, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,a6,c3,b5,Bd3,Bb7,O-O,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd2,O-O,Qh5,g6,Qh3,Nc6,f4,Nxd4,cxd4,Bxd4+,Kh1,f5,Rad1,Bxb2,exf5,exf5,Nf3,Bf6,Ng5,Bxg5,fxg5,Qxg5,a4,b4,Bc4+,Kh8,Rxd6,a5,Rd7,Bxg2+,Qxg2,Rac8,Qh3,h6,Bb5,b3,Rg1,b2,Rxg5,b1=Q+,Bf1,Qe4+,Bg2', 'Rc1+,Rd1,Rxd1#', 'https://lichess.org/training/HTnhT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hto5p', 'Rapid', 'Fustrien64', 1735, 'the_kid_is_kia', 1788, 'Nf3,Nf6,d4,c5,d5,d6,Nc3,g6,e4,Bg7,Be2,O-O,O-O,e6,dxe6,Bxe6,Bg5,a6,a4,Qc7,Nd5,Bxd5,exd5,Nbd7,Rb1,Rab8,c4,Rfe8,Bd3,Nb6,b3,Nbd7,Qc2,Ne5,Nxe5,Rxe5,Bf4,Re7,Rbe1,Rbe8,Qd2,Nh5,Rxe7,Qxe7,Be3,Be5,b4,cxb4,Qxb4,Qh4,g3,Nxg3,fxg3', 'Bxg3,Qd2,Rxe3', 'https://lichess.org/training/Hto5p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HtP1h', 'Classical', 'A66otgman', 1625, 'khuderr', 1621, 'e4,c5,d4,cxd4,c3,e5,Nf3,Nc6,Bb5,Bc5,Bc4,Nf6,Bxf7+,Kxf7,cxd4,exd4,Qb3+,d5,exd5,Nxd5,Ng5+,Ke7,Nxh7,Rxh7,O-O,Kd7,Qxd5+,Kc7,Bf4+,Bd6,Qf7+,Bd7', 'Bxd6+,Kxd6,Qg6+,Kc7,Qxh7', 'https://lichess.org/training/HtP1h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('htp3J', 'Blitz', 'L1nuxt', 2233, 'ajedrezfranve', 2147, 'c4,g6,h4,c5,h5,gxh5,Rxh5,d6,Rh1,Nf6,Qc2,Nc6,e3,Nb4,Qb3,Bf5,d3,a5,a3,a4,Qd1,Nc6,Nc3,Bg7,Nxa4,Qa5+,Nc3,Nd7,Bd2,Qb6,Rb1,Na5,b4,Nxc4,dxc4,Bxb1,Qxb1,Rxa3,Nd1,Ra1,Qb3,cxb4,Qxb4,Qxb4,Bxb4,Nc5,Nf3,O-O,Be2,Na6,Bd2,Rc8,Rh4,Nc5,Nd4,Bxd4,exd4,Nb3,Bh6,f5,g4,Kf7,gxf5,Rg8,Bh5+,Kf6,Rh1,Nxd4,Be3,Nc2+,Kd2,Nxe3,fxe3,Rg2+,Kc3,Rc1+,Kd4,e5+,fxe6,Kxe6,Bf3', 'Rd2+,Ke4,Rxc4#', 'https://lichess.org/training/htp3J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('htpEj', 'Rapid', 'dofs197', 1647, 'ALONDRACHARA', 1707, 'd4,e6,c4,Nf6,Nc3,c6,Bf4,d5,e3,Be7,Qc2,O-O,Nf3,Nbd7,cxd5,cxd5,O-O-O,Nb6,Bd3,Bd7,Kb1,Rc8,Be5,h6,h3,Na4,g4,Qb6', 'Nxa4,Rxc2,Nxb6', 'https://lichess.org/training/htpEj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HtqOD', 'Rapid', 'Petr37', 1612, 'Biscoites', 1720, 'e4,c5,a3,Nc6,b4,b6,Nf3,e5,Bc4,Be7,Bd5,Bb7,O-O,Nf6,Bxc6,Bxc6,Nxe5,Nxe4,Nxc6,dxc6,Re1,Nf6,Bb2,O-O,c3,c4,a4,b5,axb5,cxb5,Na3,a6,Nxb5', 'axb5,Rxa8,Qxa8', 'https://lichess.org/training/HtqOD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hTqoK', 'Classical', 'vrghck', 1792, 'wasif104', 1781, 'Nf3,Nf6,c4,g6,d4,Bg7,Nc3,O-O,e3,d6,Be2,c5,dxc5,dxc5,Qxd8,Rxd8,O-O,Nc6,a3,Be6,Rb1,a5,Nb5,Bd7,Nc7,Rac8,Nd5,Nxd5,cxd5,Bf5,Ra1,Rxd5,Bc4,Rdd8,h3,Ne5,Nxe5,Bxe5,Be2,b6,g4,Be4,f4,Bh8,Kf2,c4,Ra2,Bd5,Bf3,Bxf3,Kxf3,c3,bxc3,Bxc3,Bb2,Rd2,Rb1,Bxb2,Rbxb2,Rxb2,Rxb2,Rc6,a4,f5,Rb3,fxg4+,hxg4,Kf7,g5,Kg7,Ra3,h5,gxh6+,Kxh6,Kg4,Rc5,e4,g5,f5,Rc4,Kf3,g4+,Kf4,Kh5,Ra1,Rc3,Ke5,Kg5,Ke6,Re3,e5,Kf4,f6,Rxe5+,Kf7,exf6,Kxf6,g3', 'Rf1+,Ke4,Re1+', 'https://lichess.org/training/hTqoK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('htRZ1', 'Blitz', 'spaceranger', 1801, 'pareshc9', 1771, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,cxd4,Nxd4,a6,Nf3,Be7,Bd3,f6,O-O,O-O,exf6,Nxf6,Ne5,Nc6,a3,Bd6,Qe2,Nd4,Qe3,Bc5,Qh3,Nxc2+,Kh1,Nxa1,Rf3,Qe7,Ng6,hxg6,Bxg6,e5,Qh4,exf4,Nxd5,Qd6', 'Nxf6+,Rxf6,Qh7+,Kf8,Qh8+,Ke7,Qe8#', 'https://lichess.org/training/htRZ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hts2G', 'Rapid', 'MikhailTal1991', 1742, 'sport2008', 1825, 'd4,d5,c4,e6,f3,c5,dxc5,Qa5+,Bd2,Qxc5,cxd5,Qxd5,Nc3,Qd8,e4,Bb4,Bb5+,Bd7,Bxd7+,Qxd7,a3,Bxc3,Bxc3,Qxd1+,Rxd1,Nd7,Ne2,f6,O-O,O-O-O,Bd4,Ne7,Bxa7,b6,Rc1+,Kb7,Rc3,Kxa7,Rfc1,Rc8', 'Rc7+,Kb8,Rxd7,Rxc1+,Nxc1', 'https://lichess.org/training/Hts2G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Htss2', 'Rapid', 'MaksBarbaruk', 1702, 'severinolimapinto', 1720, 'e4,c5,Nf3,Nf6,Nc3,Nc6,Bb5,Nd4,e5,Ng4,Nxd4,Nxf2,Kxf2,cxd4,Ne2,Qb6,Bd3,d6,exd6,exd6,Re1,Be7,Kg1,O-O,Kh1,Bh4,Rf1,Bh3,gxh3,Rae8,Ng3,Bxg3,hxg3,Qc6+,Kh2,Re5,c3,h5,Rf5,Rxf5,Bxf5,g6,Bd3,f5,b4,f4,Bxg6,fxg3+,Kxg3,h4+,Kxh4,Rf4+,Kg3,Rf6,Qh5,d5,Qh7+,Kf8,Qh8+,Ke7,Qg7+,Kd8,Qg8+,Kc7,Qg7+,Kb6,a4', 'Rxg6+,Qxg6,Qxg6+', 'https://lichess.org/training/Htss2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('httIY', 'Blitz', 'cuerosky', 2226, 'aimn', 2119, 'e4,Nf6,f3,e5,g3,Bc5,d3,d5,Qe2,O-O,c3,h6,Be3,d4,Bf2,Nc6,Nh3,Re8,Bg2,Rf8,O-O,Be6,c4,Qd7,g4,Nxg4,fxg4,Bxg4,Qd2,Bxh3,a3,Bxg2,Kxg2,f5,exf5,Rxf5,b4,Raf8,bxc5,Rh5,Bg3', 'Qh3+,Kg1,Qxf1#', 'https://lichess.org/training/httIY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('httv4', 'Rapid', 'kmes', 1707, 'VRichardJP', 1724, 'e4,d5,exd5,Qxd5,d3,Bf5,Nf3,Nf6,Nc3,Qa5,Bd2,c6,Ne4,Qc7,Nxf6+,gxf6,Be2,Rg8,O-O,e6,Nh4,Bh3,Bf3,Bd6,g3,Bxf1,Qxf1,Nd7,d4,O-O-O,c3,Rg7,c4,f5,Kh1,Be7,c5,Bxh4,gxh4,Rdg8,Qe2,Nf6,Bg5,Nd5,a3,Nf4,Qd2,Nh3,Bg2,Nxg5,hxg5,Rxg5,Rg1,f4,f3,Rh5,h3,Rg3,Qf2,Rd5,Qd2,f6,Qe2,e5,dxe5,fxe5,Qe4,Rxc5,Qf5+,Qd7,Qf8+,Kc7,Qxc5', 'Rxh3+,Bxh3,Qxh3#', 'https://lichess.org/training/httv4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('htwiF', 'Blitz', 'agrzelak', 2197, 'Glasauge72', 2213, 'd4,d5,Nf3,c6,Bf4,Nf6,e3,Bf5,Bd3,Bg6,Ne5,Nbd7,h4,e6,h5,Bxd3,Qxd3,Nxe5,Bxe5,Nd7,Bg3,f5,Nd2,Nf6,Bh4,Be7,Bxf6,Bxf6,f4,O-O,Nf3,c5,c3,Rc8,O-O-O,Qa5,Kb1,b5,Rhg1,b4,cxb4,Qxb4,g4,Rb8,Qc2,Rfc8,Qb3,Qa5,Qd3,c4,Qc2,c3,b3,Qa3,g5,Be7,Rd3,Bb4,Rc1,a5,g6,h6,Ka1,a4,Rb1,Ra8,Ne5,axb3,Rxb3,Qa4,Rd1,Rc7,Nd3,Ba5,Rdb1,Rac8,Nc5,Qc4,Nxe6,Re7,Rb8,Rxe6,Qxf5,Ree8', 'Qf7+,Kh8,Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/htwiF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HTwqW', 'Rapid', 'otn777', 1830, 'Red756', 1753, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,Bxc6+,bxc6,O-O,Bg4,h3,Bh5,d3,Be7,a4,O-O,a5,Re8,a6,d5,exd5,cxd5,Qe1,Bxf3,gxf3,Bb4,Bd2,Qd6,Nb5,Bxd2', 'Nxd6,Bxe1,Nxe8', 'https://lichess.org/training/HTwqW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hTWuI', 'Rapid', 'Lucifer711', 1890, 'TatianeLongato', 1834, 'd4,e6,c4,d5,Nc3,c6,e3,Nf6,Nf3,Bd6,Bd3,O-O,O-O,dxc4,Bxc4,b5,Bd3,b4,Ne2,a5,e4,Be7,Bc2,g6,Bh6,Re8,Qd2,c5,e5,Nd5,Ng5,c4,Ne4,f5,exf6,Nxf6,Nxf6+,Bxf6,Rad1,Bd7,Nf4,Bg5,Bxg5,Qxg5,d5,e5,d6,Qxf4', 'Qd5+,Qf7,Qxa8', 'https://lichess.org/training/hTWuI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hTxOK', 'Rapid', 'jetullah', 1868, 'Railgizat', 1850, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,e5,Bb5,Nf6,Bxc6,bxc6,Nd2,Be7,a3,d6,Ngf3,Ba6,c4,d5,exd5,cxd5', 'Qa4+,Qd7,Qxa6', 'https://lichess.org/training/hTxOK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('htY0W', 'Blitz', 'wwwlau', 1550, 'Peymanuuu', 1546, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,c3,d6,d3,Bd7,Nbd2,Qe7,h3,O-O-O,Re1,Ba7,Nf1,Nh5,Be3,Kb8,Bxa7+,Kxa7,Ne3,g6,Nd5,Qf8,Nxc7,f5,d4,fxe4,Rxe4,exd4,Nxd4,Nxd4,Rxd4,Bxa4,Qxa4,Qe7,Nb5+,Kb8,Nxd6,Rxd6,Re4,Qd7,Qb4,Rd8,Rae1,Nf6,Re7,Qb5,Qf4,Qf5,Qc4,Rd1', 'Qc7+,Ka7,Qxb7#', 'https://lichess.org/training/htY0W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HTyhl', 'Rapid', 'kensworthz', 1644, 'Thor03', 1620, 'd4,c6,c4,d5,Nc3,Nf6,Nf3,Bg4,Bf4,e6,e3,Nbd7,Be2,Be7,h3,Bh5,O-O,O-O,c5,Bg6,Bd3,Bh5,b4,b5,a4,a6,axb5,axb5,g4,Nxg4,hxg4,Bxg4,Be2,Nf6,Nh2,Bf5,Ng4,Ne4,Nxe4,Bxe4,Bd3', 'Rxa1,Qxa1,Bxd3', 'https://lichess.org/training/HTyhl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hTz1Z', 'Rapid', 'nieznajomy22', 1900, 'Tomahawk73', 1813, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,c4,a5,Nc3,d6,g3,Nf6,Bg2,Bg4,Qa4,Qd7,O-O,Be7,h3,Bh5,g4,Bg6,Rd1,O-O,Bg5,h6,Bxf6,Bxf6,c5,Be7,Rd2,Rfd8,Rad1,Qc7,cxd6,Rxd6,Rxd6,Bxd6,Qc4,Rb8,b3,h5,f3,hxg4,hxg4,Qb6+,Kh2,Bc5', 'Na4,Bg1+,Rxg1', 'https://lichess.org/training/hTz1Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HU3Ko', 'Rapid', 'merhaba72', 1969, 'Chess_Zer0', 2012, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,Ne4,Nxe4,dxe4,e3,Bg7,h3,c5,Ne2,cxd4,Nxd4', 'Qa5+,Qd2,Qxg5', 'https://lichess.org/training/HU3Ko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hu4sN', 'Rapid', 'SyxoqpPykT', 2120, 'MethodicaL', 2125, 'c4,e5,a3,Nf6,e3,c6,d4,e4,d5,cxd5,cxd5,Qa5+,Nc3,d6,Qd4,Be7,Bd2,O-O,Nxe4,Qd8,Bd3,Nbd7,Nf3,Ng4,Bc3,Nde5,h3,Nxf3+,gxf3,Ne5,Ke2,f5,Ng3,Bf6,Nh5,Qe8,Nxf6+,Rxf6,Qf4,Bd7,Rag1,Rc8,Qh4,Qf7,f4,Ng6,Qg5,Kh8,Bxf6,gxf6,Qh6,Be8,Bxf5,Bb5+,Kf3,Qxd5+,Be4,Be2+,Kxe2,Qxe4,Rc1,Re8,Rce1', 'Nxf4+,Qxf4,Qxf4', 'https://lichess.org/training/Hu4sN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HU7Hq', 'Rapid', 'TheBadFish', 1888, 'Juanma206', 1735, 'c4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Qd3,d5,cxd5,cxd5', 'Qb5+,c6,Qxb4', 'https://lichess.org/training/HU7Hq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HU7oW', 'Blitz', 'CM vovaches', 2644, 'night1547', 2292, 'd4,Nf6,Nf3,e6,b3,c5,Bb2,cxd4,Nxd4,Nc6,e3,d5,Nd2,Bd6,Bd3,e5,Nxc6,bxc6,e4,d4,O-O,Be6,Nc4,Bc7,Ba3,h5,Qf3', 'Bg4,Qg3,h4,Qxe5+,Bxe5', 'https://lichess.org/training/HU7oW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HU80y', 'Rapid', 'Tunisia-Sousse2016', 1966, 'krixtonegurra', 1821, 'e4,e6,Nf3,d5,exd5,exd5,Be2,Bd6,d4,Nf6,Bg5,Bg4,O-O,Nbd7,Bb5,c6,Re1+,Be6,Bd3,O-O,Ne5,Qb6,Nxd7,Nxd7,b3,Qxd4', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/HU80y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hu8Uh', 'Blitz', 'alrossi_gatita', 1755, 'here_comes_tal', 1729, 'd4,e5,dxe5,Nc6,e4,Nxe5,Nc3,Bb4,Bd2,Nf6,f4,Nc6,e5,Bxc3,exf6,Bxd2+,Qxd2,Qxf6,O-O-O,O-O,Nf3,d6,Bd3,Be6,h3,Bxa2,g4,a5,g5,Qe6,Rhe1,Qd7,b3,Nb4,h4,Qc6,Be4,d5,Bxd5,Nxd5,Qxd5,Qc3,Qd4,Qxf3,Kb2,c5,Qe3,Qc6,Kxa2,a4,Kb2,axb3,Qxb3,c4,Qb4,c3+,Kb3,Ra6', 'Qxf8+,Kxf8,Rd8+,Qe8,Rexe8#', 'https://lichess.org/training/hu8Uh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hu8uj', 'Rapid', 'Cheesseburger', 1756, 'Prometeo88', 1722, 'g3,e5,d3,d5,Bg2,Nf6,Nf3,Nc6,O-O,Bd6,e4,d4,Nbd2,O-O,Nc4,Be6,Nxd6,Qxd6,Nh4,h6,f4,Bg4,Qe1,Nb4,Qf2,Bd7,a3,Nc6,f5,a5,Qe2,a4,Nf3,Na5,h3,Rfe8,g4,Qb6,Kh1,Bb5,Nh2,c5,h4,c4,g5,cxd3,cxd3,hxg5,hxg5,Nd7,Qf3,Nb3,Rb1,Rac8,g6,f6,Qh5,Nf8,Rf3,Rxc1+,Rxc1,Nxc1,Rh3,Nxg6,fxg6,Kf8,Qh8+,Ke7,Qxg7+,Kd8,Ng4,Nxd3,Nxf6,Nf2+,Kh2,Nxh3,Bxh3,d3,Nxe8,d2,Qf6+', 'Qxf6,Nxf6,d1=Q', 'https://lichess.org/training/Hu8uj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HU9Lo', 'Blitz', 'AnasSh84', 1724, 'Chessman123450', 1773, 'e4,c5,Nf3,g6,d4,Bg7,d5,Nf6,e5,Ng4,e6,fxe6,dxe6,d6,Bc4,O-O,h3,Nf6,Nc3,Nc6,Bg5,a6,a4,Rb8,O-O,Na5,Ba2,b5,axb5,axb5,Re1,b4,Nd5,Nxd5,Bxd5,Nb7,Rb1,Na5,Qd2,c4,Bh6,c3,Qg5,Bxh6', 'Qxh6,Rf5,Ng5,Rxg5,Qxg5', 'https://lichess.org/training/HU9Lo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hubpd', 'Blitz', 'MakcumUcaeb', 2110, 'TjsDecouvrir', 2134, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Neg5,e6,Bd3,Bd6,O-O,O-O,Re1,h6,Nh3,b6,Bf4,Qc7,Ne5,Bb7,Bg3,c5,c3,cxd4,cxd4,Rac8,Qe2,Rfd8,Nf4,Nd5,Nh5,N7f6,Bh4,Bb4,Red1,Nxh5,Qxh5,Nf4,Qg4,Nxd3,Rxd3,Rf8,Rg3,g6,Nxg6', 'Qc1+,Qd1,Qxd1+,Rxd1,fxg6', 'https://lichess.org/training/hubpd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HuBqs', 'Rapid', 'gleeful', 2119, 'gonzopunk', 2093, 'd4,Nf6,c4,d5,Nc3,e6,Nf3,Bb4,Bg5,h6,Bh4,c6,e3,Nbd7,cxd5,cxd5,Bd3,Qa5,Qc2,Ne4,Bxe4,dxe4,Nd2,f5,O-O,Bd6,Nc4,Qc7,Nxd6+,Qxd6,Bg3,Qe7,d5,O-O,dxe6,Qxe6,Ne2,Nf6,Rfd1,Nh5,Nf4,Nxf4,Bxf4,g5,Bd6,Rd8,Bb4,Bd7,Rd6,Qf7,Rad1,Rdc8,Qe2,Be6,b3,Kh7,h3,a5,Ba3,a4,b4,b5,Bb2,Bc4,Qd2,Bd3,Rc1,Qe7,Rdc6,Qd7,Qc3,Rxc6,Qxc6,Rd8,Bd4,Bc4,Qxd7+,Rxd7,a3,f4,g3,fxe3,fxe3,Rf7,Kg2,Rf3,Bc5,Kg6,Rd1,Bd3', 'Rxd3,Rxg3+,Kxg3', 'https://lichess.org/training/HuBqs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HUCpF', 'Blitz', 'Schnarchow', 2095, 'GM Bagvagen5GM', 2470, 'Nc3,g6,e4,Bg7,h4,h5,g4,hxg4,Qxg4,d5,Qg2,d4,Nce2,Nf6,d3,Nc6,Bd2,a5,f4,Ng4,h5,gxh5,Nf3,Nb4,Bxb4,axb4,e5,c5,Kd2,Be6,Ng5,Bd5,Ne4,Qb6,N2g3,Bh6,Nxh5,Nxe5,Nef6+,exf6,Qxd5,Bxf4+', 'Nxf4,Rxh1,Qxh1', 'https://lichess.org/training/HUCpF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUCWb', 'Blitz', 'asrab65', 2155, 'Ahmad_Jaser', 1536, 'b3,g6,Bb2,Nf6,Bxf6,exf6,c4,Bd6,d4,b6,Nc3,Bb7,Nf3,Bb4,Qc2,Bxf3,exf3,Nc6,Rd1,Qe7+,Be2,O-O,Rd2,Rfe8,O-O,Bxc3,Qxc3,d6,f4,Qd7,Bf3,Re7,Rfd1,Rae8,Bxc6', 'Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/hUCWb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hud8G', 'Rapid', 'pawel4k', 1863, 'jumper43', 1884, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,Nc6,Bb5,Bd7,d4,exd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,c6,Bg5,Be7,O-O-O,h6,Bh4,O-O,f4,Nxe4,Bxe7,Nxc3,Bxf8', 'Ne2+,Kb1,Nxd4', 'https://lichess.org/training/hud8G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUDai', 'Rapid', 'someuser', 1670, 'Ego1980', 1903, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Bxc6,dxc6,Rxe5+,Be7,d3,O-O,Qe1,Bf6,Re2,c5,c3,Bg4,Re3,Nf5,Re4,Bxf3,gxf3,Qxd3,Nd2,b6,Rf4,Rfe8,Ne4,Nd6,Nxf6+,gxf6,Rg4+,Kh8,Be3,Rg8,Rd1,Qf5,Rg3,Rxg3+,fxg3,Qxf3,Bf4,Re8,Qd2,Ne4,Qe1,Re6,Rd8+,Kg7,Qc1,Qf2+,Kh1,Qf3+,Kg1,Ng5,Bxg5,fxg5,Qxg5+,Rg6,Qe5+,Qf6,Qxc7,a5,Qb8,Qe6,Rg8+,Kh6', 'Qf4+,Kh5,Qh4#', 'https://lichess.org/training/hUDai');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUdyO', 'Rapid', 'stefann1988', 1871, 'Hanxell23', 1975, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Be3,O-O,Qd2,b6,Bh6,Bb7,Bxg7,Kxg7,Bd3,Nbd7,O-O,e5,d5,Nc5,b4,Nxd3,Qxd3,a5,b5,Bc8,Ne2,Bd7,c4,Nh5,Ng3,Nf4,Qe3,h5,Ne2,Nxe2+,Qxe2,Bg4,h3,Bd7,Ng5,f5,Nf3,f4,Nh2,Rh8,Qf3,Qe7,a4,Raf8,Ra3,g5,Re1,Kf7,g4,Ke8,gxh5,Qf7,Kh1,Rxh5,Rg1,Rfh8,Ng4,Rxh3+,Qxh3,Rxh3+,Rxh3,Qg6,Rh8+,Kf7,f3,Kg7,Rh6,Qf7,Rg2', 'Bxg4,fxg4,Kxh6', 'https://lichess.org/training/hUdyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUELI', 'Rapid', 'fisherboby', 1792, 'Niabh', 1753, 'e4,c5,Nf3,d6,Nc3,a6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Bc4,Be7,Nd5,Nbd7,Be3,b5,Nxf6+,Nxf6,Bd5,Nxd5,exd5,O-O,O-O,Bg4,h3,Bh5,g4,Bg6,Kh2,e4,Nd4,Bf6,Nf5,Be5+,f4,Bxb2,Rb1,Bf6,g5,Bxf5,gxf6,Qxf6,Rg1,Qh4,Rg3,Rac8,Qe2,Rc3,Rbg1,Rfc8,Rxg7+,Kf8,Rg8+,Ke7,Rxc8', 'Qxh3#', 'https://lichess.org/training/hUELI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HueuV', 'Blitz', 'IM Machinegunusa', 2538, 'AlexMitAlex', 2379, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,g4,d5,exd5,exd5,g5,dxc4,gxf6,Qxf6,Nd5,Qd8,Qe2+,Be7,Bg5,f6,Bxf6,gxf6,Nxf6+,Kf8,O-O-O,Bxf6,Ne6+,Bxe6,Rxd8+,Bxd8,Qxe6,Nc6,Qh6+,Kf7,Qh5+,Kf8,Qf5+,Ke8,Qe6+,Be7,Qxc4,Rf8,Qe4,Rxf2,Qxh7,Rd8,Qg6+,Kd7', 'Rd1+,Kc7,Qg3+', 'https://lichess.org/training/HueuV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Huf4a', 'Rapid', 'netfarceur', 1734, 'Gottmaschine', 1713, 'd4,Nf6,c4,d6,d5,g6,Bg5,Bg7,Nc3,O-O,h3,Bf5,Nf3,Ne4,Nxe4,Bxe4,Nd2,f5,f3,Bxb2,fxe4,Bxa1,Qxa1,fxe4,Bh6,Rf7,Nxe4,Nd7,Ng5,Rf6,e4,Ne5,Be2,c6,Qc3,cxd5,exd5,Qb6,Ne4', 'Qb1+,Bc1,Qxe4', 'https://lichess.org/training/Huf4a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hugWY', 'Rapid', 'Caidot', 1834, 'gokukuku', 1887, 'e4,c5,Nf3,d6,Nc3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nf6,f3,O-O,Qd2,Nc6,O-O-O,Bd7,g4,Rc8,h4,e5,Nxc6,Rxc6,Bg5,Qc7,Bxf6,Bxf6,Nd5,Qd8,Bb5,Rxc2+,Qxc2,Bxb5,Kb1,Bxh4,Qh2,g5,f4,exf4,Nxf4,Qe7,Nd5,Qxe4+,Ka1,Qe6,Rhe1,Bxe1,Qg1,Re8,Nc7,Qd7,Nxe8,Qxe8,Rxe1,Qd7,Qxa7,Kg7,Qd4+,f6,Rd1,Qc6,Qxd6,Qf3,Qe7+,Kg6,Qe1,Ba4,b3,Bc6,Rd6,Qxg4,Qb1+,Kh5', 'Qxh7#', 'https://lichess.org/training/hugWY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HUH3l', 'Rapid', 'olegus41', 1949, 'Jolle0', 1989, 'e4,e6,d4,b6,Bd3,Bb7,c4,f5,exf5,Bxg2,Qh5+,g6,fxg6,Nf6,Qg5,Bxh1,gxh7,Nxh7', 'Bg6#', 'https://lichess.org/training/HUH3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HUHSW', 'Rapid', 'babak1970', 1860, 'Hmee88', 2074, 'e4,c5,d3,d5,exd5,Qxd5,Nc3,Qc6,Be3,Nf6,h3,Bf5,Nf3,Nbd7,Be2,e6,Nh2,Qxg2,Bf3,Qxh3,Bxb7,Rb8,Qf3,Qxf3,Bxf3,Rxb2,Kd2,Be7,Rhb1,Rxb1,Rxb1,O-O,Rb7,Rb8,Rxa7,Kf8,Bc6,Ne5,Ba4,Bd8', 'Bxc5+,Kg8,Bd6', 'https://lichess.org/training/HUHSW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Huipf', 'Rapid', 'LouisGomis', 1711, 'Reza1977', 1650, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bb4,d3,d6,Bxc6+,bxc6,Bd2,Bg4,a3,Ba5,b4,Bb6,h3,Bh5,g4,Bg6,Nh4,O-O,Bg5,h6,Be3,Nd7,Ng2,Kh7,O-O,c5,f4,exf4,Nxf4,Qe7,Ncd5,Qh4,Nxg6,fxg6,Rf3,Rxf3,Qxf3,Rf8,Qg2,Ne5,Rf1,Rxf1+,Qxf1,c6,Nxb6,axb6,bxc5', 'Qg3+,Kh1,Qxe3', 'https://lichess.org/training/Huipf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HukoA', 'Rapid', 'dodo-152', 1753, 'hrog', 1758, 'e4,c5,c3,Nc6,Nf3,g6,Be2,Bg7,O-O,Nf6,d3,O-O,Bg5,d6,Na3,a6,Nc4,b5,Ne3,h6,Bxf6,exf6,d4,cxd4,cxd4,Bg4,d5,Bxf3,Bxf3,Ne5,Rb1,Nxf3+,Qxf3,Rc8,Rbc1,Qa5,a3,Qd2,Rxc8,Rxc8,b4,Rc3,Rd1,Qb2,Qh3,Qxa3,Rf1,Qxb4,Qg4,h5,Qd7,a5,Qe8+,Kh7,Qxf7,a4,Qe6,a3,g4,Qd4,gxh5,Rxe3,fxe3,Qxe3+,Kh1,gxh5,Qf5+,Kh6,Rg1,Qxg1+,Kxg1,b4,Qf4+,Kh7,Qf5+,Kh8,Qxh5+,Kg8,Qd1,a2,Kg2', 'f5,Qb3,a1=Q', 'https://lichess.org/training/HukoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUkse', 'Blitz', 'gas81', 1608, 'The_CrazyJay01', 1615, 'e4,Nf6,e5,Ng8,Nf3,d6,c3,Nc6,Qb3,Nxe5,Nxe5,dxe5,Bc4,e6,O-O,Nf6,Re1,a6,a4,Be7,Rxe5,Bd6,Re2,c5,d4,Qc7,d5,O-O,dxe6,Bxh2+,Kf1,Bxe6,Bxe6,fxe6,Rxe6,Ng4,Re7+,c4,Rxc7,cxb3,Rxb7,Rxf2+,Ke1,Re8+,Kd1,Rf1+,Kd2,Rd1+,Kxd1', 'Nf2+,Kd2,Bf4#', 'https://lichess.org/training/hUkse');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUkYX', 'Blitz', 'Branddit', 1763, 'andrea_bi', 1691, 'd4,e6,Nf3,d5,Bg5,Nf6,e3,h6,Bh4,c5,c3,Nc6,Nbd2,Qb6,Bxf6,gxf6,Qc2,cxd4,exd4,e5,Nb3,e4,Nh4,Bd6,f3,f5,fxe4,fxe4,Qf2,Be6,Qf6,Rf8,Nf5,Be7,Nxe7,Nxe7,O-O-O,h5,Nc5,Bg4,Qxb6,axb6,Nxb7,Bxd1,Kxd1,Rxa2,Bb5+,Nc6,Bxc6+,Ke7,Kc2,Rg8,Bxd5,Rxg2+,Kb3', 'Rgxb2+,Kc4,Ra4#', 'https://lichess.org/training/hUkYX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUmAj', 'Rapid', 'DanBeardzarian', 2161, 'ehst', 2147, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,a6,Be2,d6,O-O,Nf6,a4,Be7,Be3,Qc7,f4,Bd7,Bf3,h5,Kh1,Ng4,Bg1,Nxd4,Qxd4,Bf6,Qd3,Rc8,Bd4,Bxd4,Qxd4,Nf6,e5,dxe5,fxe5,Ng4,Bxg4,hxg4,Qxg4,Qxe5,h3,Bc6,Rae1,Qh5,Rxe6+,fxe6,Qxe6+,Kd8,Rd1+,Kc7,Qd6+,Kb6,Qd4+,Qc5', 'a5+,Ka7,Qxc5+', 'https://lichess.org/training/hUmAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUNcy', 'Rapid', 'GlebKl', 1652, 'Torsty90', 1797, 'e4,e6,d4,d5,Nc3,c5,e5,cxd4,Qxd4,Nc6,Qa4,Bd7,Qb3,Qc7,Nf3,a6,Bd3,Bc5,O-O,Nd4,Nxd4,Bxd4,Re1,Ne7,Ne2,Bxe5,Ng3,O-O,Bd2,Nc6,c3,b5,Re3,Na5,Qc2,Nc4,Bxh7+,Kh8,Rxe5,Qxe5,Re1,Qf6,Bd3,Nxd2,Qxd2,Qh6,Qe2,g6,Qe5+,Qg7,Qc7,f5,Ne2,Rfe8,Nf4,Bc8,Qc6,Bb7,Qd6,Rad8,Qb6,e5,Nh3,e4,Bc2,g5,Nxg5,Qxg5,Qxb7,Re7,Qxa6,Qd2,Rf1,Qxc2', 'Qf6+,Kg8,Qxe7', 'https://lichess.org/training/hUNcy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HunG9', 'Rapid', 'PantuhovPI', 2117, 'Jesper740924', 2153, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,Be7,Nf3,O-O,e3,Bf5,Bd3,Bxd3,Qxd3,Nbd7,O-O,c6,Rac1,Re8,h3,Ne4,Nxe4', 'dxe4,Qxe4,Bxg5', 'https://lichess.org/training/HunG9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HUnlW', 'Rapid', 'unclJ', 1833, 'jorgeceleste1940', 1796, 'e4,d5,exd5,Qxd5,d4,c6,Nf3,Bf5,Be2,e6,O-O,Nf6,c4,Qa5,Bd2,Qc7,Ne5,Nbd7,Bf4,Qd8,Nc3,Be7,c5,O-O,a4,Nd5,Nxd5,exd5,Re1,Nxe5,Bxe5,Bf6,Bd6,Be7,Bg3,Re8,Bf3,Bh4', 'Rxe8+,Qxe8,Bxh4', 'https://lichess.org/training/HUnlW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hunR1', 'Blitz', 'FM purepecha1', 2443, 'Sasap64', 2443, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,O-O,d4,Bg4,Be3,Na5,dxe5,Bxf3,exf6', 'Bxd1,fxe7,Qxe7', 'https://lichess.org/training/hunR1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('huQot', 'Rapid', 'Nusret49', 2051, 'Iplaygambit', 2090, 'e4,e5,d4,exd4,Nf3,Nc6,Nxd4,Nf6,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,Bd6,Bg5,O-O,Nc3,c6,Qf3,Rb8,Bxf6,Qxf6,Qxf6,gxf6,Rab1,Be5,Nd1,c5,b3,c4,Be2,Re8,Ne3,cxb3,axb3,Be6,Bf3,d4,Ng4,Bf5', 'Nh6+,Kf8,Nxf5', 'https://lichess.org/training/huQot');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUr8L', 'Blitz', 'CM Itachi2096', 2348, 'D10SChess', 2353, 'd4,g6,Bf4,Bg7,Nc3,c5,d5,d6,e4,Nf6,Be2,O-O,Nf3,b5,Bxb5,Nxe4,Nxe4,Qa5+,Ned2,Qxb5,Rb1,Ba6,c4,Qb4,Qc2,Nd7,O-O,Rab8,Rfe1,Rfe8,a3,Qa5,Re2,Nf6,Rbe1,Qc7,Ne4,Bc8,Nxf6+,Bxf6,Bd2,Rxb2,Qc1,Bg4,Bc3,Rxe2,Rxe2,Bxf3,gxf3,Bxc3,Qxc3,Rb8,Qe3,Rb7,h4,Qb6,Kg2,Qb1,Qg5,f6,Qg4,Qf5,Qxf5,gxf5,Re3,Kf7,Kg3,Rb2,Rc3,Rb1,Kf4,Rh1,Kxf5,Rxh4,f4,h5,Rb3,Rh2,f3,Rf2,Re3,a5,Rc3,a4,Ke4,Rb2,f5,h4,Kf4,h3,Kg3,h2,Rc1,Kg7,Rh1,Kh6,Rxh2+,Rxh2,Kxh2,Kg5,Kg3,Kxf5,f4,Ke4,Kg4,f5+,Kg5,Kd4,Kxf5,Kxc4,Ke6,Kd4,f5,c4,Kxe7,c3,f6,c2,f7,c1=Q,f8=Q,Qe3+,Kd7,Qe5,Qf7,Qxd5,Qf4+,Kc5', 'Qb4#', 'https://lichess.org/training/hUr8L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUrIg', 'Rapid', 'grousemountain', 2108, 'seg32', 2136, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,f4,a6,Nf3,c5,Be2,Nc6,O-O,O-O,Na4,cxd4,Nxd4,Qb4,c3,Qa5,b4,Qc7,Rc1,b5,Nc5,Nb6,a4,bxa4,Nxa4,Nc4,Bxc4,dxc4,Ra1,Bb7,Nc5,Rfd8,Rf2,Qb6,Nxb7,Qxb7,Rd2,Qb6,Kh1,g6,Nxc6,Rxd2,Ne7+,Kf8,Nxg6+,hxg6,Qxd2,Rd8,Qe2,Rd3,Ra3,Qd8,h3,Qd5,Rxa6,Rxh3+,Kg1,Rxc3,Rd6,Qb5,Qa2,Qxb4,Qa8+,Kg7,Rd8,Qb6+', 'Kh2,Qxd8,Qxd8', 'https://lichess.org/training/hUrIg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HUrtG', 'Blitz', 'IM Panesso', 2658, 'JLeon', 2472, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bg5,Bd7,Qd2,Rc8,f4,h6,Bxf6,gxf6,O-O-O,Nxd4,Qxd4,Qa5,a3,h5,g3,h4,Be2,Qc5,Kb1,Qxd4,Rxd4,a6,g4,h3,Nd5,Bh6,Rf1,Rc6,f5,Bg5,Rb4,Bc8,Rf3,Rh4,Rfb3,Kd8,Rd4,b5,Rdd3,e6,Nb4,Rb6,Rxh3,Rxh3,Rxh3,a5,Nd3,Ke7,Rh8,Bb7,Bf3,Bc6,c3,b4,axb4,Bb5,Nf2,axb4,Kc2,bxc3,Kxc3,Bf4,e5,Bxe5+,Kd2,Bc4,Nd3,Bxd3,Kxd3,Rxb2,h4,exf5,gxf5,Rb3+,Ke2,Rb2+,Kd1,Rh2,h5,Bf4,Bd5,Kd7,Bxf7,Kc6,Rc8+,Kb5,Ke1,Kb4', 'Rc4+,Kb5,Rxf4', 'https://lichess.org/training/HUrtG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HusOV', 'Rapid', 'djembemark', 1613, 'kelja', 1686, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c3,g6,d4,Bg7,Be3,O-O,Qd2,f5,Bh6,f4,Bxg7,Kxg7,dxe5,d6,exd6,Qxd6,Qxd6,cxd6,O-O,Ne5,Nd4,a6,Be2,Rf6,Nd2,b5,N2f3,Bb7,Bd3,Nxd3,b3,Ne5,Rfe1,Nxf3+,gxf3,Nc6,Rac1,Ne5,Kg2,Nd3,Red1,Nxc1,Rxc1,Rc8,Kh3,g5,Kg4,h6,Nf5+,Kf7,Rd1,Rc6,h4,Bc8,hxg5,Bxf5+,exf5,hxg5,Kxg5,Rxc3,Kxf4,Rc2,Rh1,Ke7,Rh7+,Kd8,Kg5,Rf8,f6,Rxf2,f4,d5,Kf5,Re2,Ra7,Rxa2', 'Ra8+,Kc7,Rxf8', 'https://lichess.org/training/HusOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('huTiL', 'Blitz', 'Deepak9957', 1543, 'TirthankarChess', 1606, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Bc4,Nf6,Nc3,e5,Nb3,b5,Bd3,Be7,Bg5,O-O,O-O,Bb7,Re1,h6,Bh4,Qd7,Qe2,g5,Bg3,h5,Rad1,h4,Bxe5,dxe5,Bxb5,Qe6,Bc4,Qc6,Bd5,Nxd5,Nxd5,Bc5,Nxc5,Qxc5,Nf6+,Kg7,Nh5+,Kh6,Nf6,Qc6,Qh5+,Kg7,Qh7+,Kxf6,Rd2,Nd7,Red1,Nc5,Rd6+,Ne6,Qf5+,Ke7,Rd7+,Ke8,R7d6,Qxe4', 'Rxe6+,fxe6,Qxe6#', 'https://lichess.org/training/huTiL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HUUa9', 'Rapid', 'nikhilninan', 1607, 'SNizami', 1635, 'b3,g6,Bb2,Nf6,Nf3,Bg7,e4,d6,Bc4,O-O,O-O,Nxe4,Bxg7,Kxg7,d3,Nf6,Qd2,e5,Ng5,Nc6,Nc3,a6,Nce4,Ng8,f4,d5,fxe5,dxc4,bxc4,Nxe5,Qc3,f5,Qxe5+,Nf6,d4,fxe4,Nxe4,Bf5,Nxf6,Rxf6,c3,c6,c5,Qf8,Qc7+,Rf7,Qe5+,Rf6,Rae1,Re8', 'Qxe8,Qxe8,Rxe8', 'https://lichess.org/training/HUUa9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HuUmg', 'Classical', 'khalilbenali001', 1905, 'davidcu87', 1901, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Bc5,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,d6,O-O,Nf6,Re1,O-O,Nc3,Bg4,Rad1,Bxf3,gxf3,Nh5,Kh1,Qf6,Be2,Nf4,d5,Ne5,Rg1,Nxe2,Qxe2,Qxf3+,Qxf3,Nxf3,Rg3,Ng5,Rdg1,g6,f4,Nh7,Nb5,c6,dxc6,bxc6,Nxd6,Rab8,b3,Rb4,f5,Rd4,fxg6,Rxd6,gxh7+,Kxh7,Rg7+,Kh8,R7g2,Rd4,Re2,Re8,Rg4,f5,exf5', 'Rd1+,Kg2,Rxe2+', 'https://lichess.org/training/HuUmg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HUuMK', 'Blitz', 'NM janisdaudz', 2156, 'mhs78', 1840, 'f4,d5,Nf3,c5,g3,Nf6,Bg2,Bg4,O-O,e6,d3,Nc6,Nc3,d4,Ne4,Nxe4,dxe4,Be7,e5,h5,h3,Bf5,Bd2,Qc7,a3,Be4,e3,O-O-O,exd4,Bxf3,Bxf3,Nxd4,Be4,g6,c3,Nf5,Bxf5,gxf5,Qe2,h4,g4,fxg4,hxg4,h3,Kh2,Qc6,Rf2,Bh4,Rff1,Rd5,Be3,Rhd8,Qf3,Qb6,b4,Qa6,Kxh3,Be7,Qe4,Rd3,Rf3,cxb4,cxb4,Rxa3,Rc1+,Kb8,Qc2', 'Rh8+,Kg3,Bh4+', 'https://lichess.org/training/HUuMK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUV5G', 'Rapid', 'LuckCow', 1761, 'dadu85', 1721, 'd4,Nf6,Nf3,e6,c4,b6,Bg5,Be7,e3,Nc6,a3,O-O,Bd3,d5,cxd5,exd5,O-O,a5,Qc2,Bb7,Bxf6,Bxf6,Bxh7+,Kh8,Bd3,g6,Nc3,Ne7,e4,dxe4,Bxe4,Bxe4,Nxe4,Nf5,Nxf6,Qxf6,Qxc7,Nxd4,Qe5', 'Nxf3+,gxf3,Qxe5', 'https://lichess.org/training/hUV5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hUvPj', 'Rapid', 'Thadeupoeta', 1911, 'ciap1993', 1941, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,d3,Bg4,f3,Bh5,Ne2,e6,O-O,Nc6,a3,Bd6,Bd2,Qe5,f4,Qf5,Ng3', 'Qc5+,Kh1,Bxd1', 'https://lichess.org/training/hUvPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('huwDP', 'Rapid', 'ZiyiZhang', 1701, 'olenchuk', 1802, 'e4,e5,d4,exd4,Nf3,Nc6,c3,dxc3,Bc4,c2,Qxc2,d6,O-O,Be7,Nc3,Be6,Bxe6,fxe6,Be3,Nf6,Rad1,e5,a3,O-O,b4,a6,h3,Qe8,b5,axb5,Nxb5,Bd8,Qc4+,Qf7,Qc3,Nxe4,Qa1,Nf6,Ng5,Qb3,Rb1,Qc2,Rb2,Qg6,Qa2+,Kh8,Ne6,Rg8,Ng5,Nd5,Qxd5,Bxg5,Nxc7,Rxa3,Bxg5,Qxg5,Rxb7,Nd4,Kh2,Qf4+,Kh1,Nf5,Ne6,Ng3+,Kg1,Ne2+,Kh1,Qh4,Qxd6', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/huwDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('huxI9', 'Rapid', 'iran-soldier', 1802, 'alsoraidy87', 1793, 'e4,c5,Nf3,Nc6,c3,a6,d4,cxd4,cxd4,e6,Nc3,Bb4,Bd2,Be7,a3,Nf6,Bd3,d5,e5,Nd7,O-O,O-O,Be3,b5,b4,Bb7,Rc1,Rc8,Bb1,Nb6,Qd3,g6,Nd2,Bg5,Ne2,Bxe3,fxe3,Ne7,Nf4,Nf5,Qe2,Qd7,Bxf5,exf5,Qf3,Nc4,Nxc4,dxc4,Qe2,Be4,Qd2,Rc7,Nh3,Rfc8,Nf2,Qd5,Rc3,Bxg2,Rfc1,Be4,Nxe4,Qxe4,Qg2,Qxg2+,Kxg2,Kg7,h4,h6,Kg3,g5,h5,Ra8,Rf1,f6,Rxf5,fxe5,Rxe5,Kf7,e4,Re8', 'Rf3+,Kg7,Rxe8', 'https://lichess.org/training/huxI9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Huy2p', 'Blitz', 'josemariagomez', 2119, 'Blackswood', 2169, 'e4,d5,e5,c5,f4,Nc6,c3,Bf5,Nf3,e6,Bb5,a6,Bxc6+,bxc6,d3,Ne7,O-O,Ng6,g3,Be7,h4,h5,Ng5,Bg4,Qa4,Qb6,c4,Kd7,Nc3,f6,Nf7,Rhf8,exf6,Rxf7,fxe7,Nxe7,b3,Raf8,Bd2,Bf5,Rf3,Bg4,Rf2,Nf5,Kh2,Qc7,Qxa6,e5,Na4,Nxg3,Nxc5+,Kd6,Bb4,Qe7,cxd5', 'Qxh4+,Kg2,Qh3+,Kg1,Qh1#', 'https://lichess.org/training/Huy2p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hV209', 'Blitz', 'WGM Plested', 2462, 'TAYA_GNIASSS', 2370, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,Nbd7,Be3,b5,g4,Bb7,g5,Ng8,Qd2,Nb6,O-O-O,e6,a3,Ne7,h4,Rc8,h5,Nc6,Kb1,Ne5,f4,Nec4,Bxc4,Nxc4,Qd3,d5,exd5,Bxd5,Rhe1,Bc5,g6,O-O,h6,fxg6,hxg7,Rf7,Nxd5,Qxd5,Qb3,Nxe3,Rxe3,Rxf4,Rxe6,Rxd4', 'Qxd5,Rxd5,Rxd5', 'https://lichess.org/training/hV209');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hv228', 'Bullet', 'calibandalsal', 2219, 'DontWannaKnowYou', 2311, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,O-O,O-O,d3,d6,h3,h6,Be3,Bb6,a4,Bd7,Ne2,Ne7,Ng3,Bxe3,fxe3,c6,Nh4,Kh7,Ngf5,d5,Bb3,Ng6,exd5,Nxh4,Nxh4,Nxd5,Bxd5,cxd5,Nf5,Qc7,e4,f6,Rf3,dxe4,dxe4,Rad8,Qe2,Bxf5,exf5,Qb6+,Kh1,Qxb2,Raf1,Qd4,Rd3,Qxa4,Rb3,b6,Qh5,Rd2,Qg6+,Kh8,Rg3,Qd7,c4,Rd4,Qh5,Rxc4,Rff3,a5,Rg6,Rf7,Rfg3,Qe7,Kh2,b5,Qe2,a4,Qb2,b4,Qe2,Rd4,Qb5,b3,Qb8+,Kh7', 'Rxh6+,gxh6,Qg8#', 'https://lichess.org/training/hv228');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hv3aM', 'Rapid', 'Hydramist', 1684, 'gt_64', 1658, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,Bd3,Bxd3,Qxd3,Ngf6,Nf5,e6,Qe2', 'Qa5+,Bd2,Qxf5', 'https://lichess.org/training/hv3aM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HV6BC', 'Blitz', 'billybones11', 1913, 'NiklasGerdau', 1895, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qc3,Ng4,Bf4,Bg7,Nbd2,d6,h3,Ngxe5,Nxe5,Nxe5,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Nxf3+,Qxf3,O-O,O-O,Qc6,Qxc6,bxc6,c3,Rab8,Rab1,Rb7,Rfe1,Rfb8,Re2,Bxc3,b3,Bg7,Rbe1,e5,Bd2,d5,Rc1,Rc8,Ba5,d4,Rec2,Rb5,b4,d3,Rxc6,Rxc6,Rxc6,Rd5,Rc1,e4,Kf1,Bh6,Rd1,f5,a4,a6,Bb6,Kf7,Be3,Bxe3,fxe3,Ke6,Ke1,g5,Kd2,f4,Rc1,Ke5,Rc7,f3,gxf3,exf3,Rf7,Ke4,Re7+,Re5,Rxe5+,Kxe5,Kxd3,h5,b5,axb5,axb5,g4,b6,Kd6,b7,Kc7,hxg4,Kxb7', 'gxh5,f2,Ke2,f1=R,Kxf1', 'https://lichess.org/training/HV6BC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hv6q1', 'Classical', 'usyu001', 1850, 'slapiavardis', 1891, 'e4,c5,Nc3,g6,Nf3,Bg7,Bc4,d6,O-O,Nc6,Bb5,Qb6,Bxc6+,Qxc6,d4,Bg4,dxc5,dxc5,h3,Rd8,Qe2,Bxf3,Qxf3,Nf6,Bg5,O-O,Nd5,Nxd5,exd5,Qd6,c3,Qe5,Bh4,g5,Rfe1,Qxd5,Qxd5,Rxd5,Bg3,e6,Rad1,Rfd8,Rxd5,Rxd5,Re2,Rd1+,Kh2,Rd5,f4,h6,fxg5,hxg5,Kg1,e5,Kf2,f6,Kf3,Kf7,Ke3,Bh6,Ke4,Ke6,Rf2,b5', 'Rxf6+,Kxf6,Kxd5', 'https://lichess.org/training/hv6q1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hV7kr', 'Rapid', 'srhttimur', 1727, 'anandw', 1659, 'e4,e6,Nf3,d5,e5,c5,Be2,Nc6,O-O,Nge7,c3,Ng6,d4,cxd4,cxd4,Qb6,Nc3,Bb4,a3,Bxc3,bxc3,O-O,a4,f6,Bd3,fxe5,Bxg6,hxg6,dxe5,Rf5,Qd3,Bd7,Be3,Qc7,Rfe1,Nxe5,Nxe5,Qxe5,Bd4,Qf4,g3,Qf3,Qc2,Re8,Re3,Qh5,Rae1,e5,Bxa7,e4,Qb3,Ref8,Qxb7,Bxa4,Bd4,R5f7,Qa6,Bb3,R3e2', 'Bc4,Qxc4,dxc4', 'https://lichess.org/training/hV7kr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HV83H', 'Rapid', 'z_vasiliy', 1788, 'Hosen_an', 1780, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,e3,c5,dxc5,Bxc5,Bd3,a6,Nf3,Nc6,Nd4,Nxd4,exd4,Bxd4', 'Qa4+,Bd7,Qxd4', 'https://lichess.org/training/HV83H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hv9ky', 'Rapid', 'grealsan', 1856, 'ARMAN95', 1742, 'd4,d5,e4,c6,Nc3,Nf6,e5,Nfd7,f4,e6,Nf3,c5,a3,Nc6,Be2,Qb6,Na4,Qa5+,c3,cxd4,Nxd4,Nxd4,Qxd4,b5,Nc5,Bxc5,Qd3,a6,b4,Bf2+,Kxf2,Qb6+,Be3,Qc7,Rhf1,O-O,Bd4,Bb7,Kg1,Nb6,Bd1,Nc4,Bc2,g6,h4,Rac8,h5,Nb2,Qg3,Kg7,hxg6,fxg6,Kh2,Nc4,f5,exf5,e6+,Kg8,Qxc7,Rxc7,Bc5,Re8,Rae1,Nd2,Rf2,Ne4,Bxe4,dxe4,e7,Kf7,Rd2,Rcc8,Rd7,Bc6,Ra7,Ra8,Rxa8,Rxa8,Rd1,Be8', 'Rd8,Ra7,Bxa7', 'https://lichess.org/training/hv9ky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HVaBk', 'Rapid', 'tixule', 1756, 'LiveTrompy', 1897, 'e4,d5,exd5,Qxd5,Nc3,Qd6,g3,e5,Bg2,c6,Nge2,Nf6,O-O,g6,Re1,Bg7,d4,O-O,dxe5,Qxe5,Bf4,Qh5,Qd6,Bh3,Bh1,Bg4,Rad1,Na6,Bc1,Bxe2,Nxe2,Ng4,h4,Rad8,Qxd8,Rxd8,Rxd8+,Bf8,Nf4,Qc5,Nd3,Qxc2,Bf3,Nxf2,Nxf2,Kg7,Ng4,Bc5+,Kh1,h5,Bh6+,Kh7,Ree8,Qb1+,Kg2,Qg1+,Kh3,Qf1+,Bg2', 'hxg4+,Kh2,Qg1#', 'https://lichess.org/training/HVaBk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HvcdK', 'Blitz', 'Evgen_74', 1845, 'Garabedov', 1801, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,e5,Nfd7,Nf3,c5,dxc5,dxe5,fxe5,Nc6,e6,fxe6,Ng5,Bxc3+,bxc3,Qa5,Qf3,Nf6,Bf4,h6,Nh3,g5,Nxg5,e5,Bd2,hxg5,Bd3,Qxc5,Bg6+,Kf8,Bxg5,e4,Qg3,Bg4,Bxf6,exf6,Qxg4,Qe3+,Qe2,Qxc3+,Kf2,Nd4,Qxe4,Qd2+,Kg3,Qg5+,Kf2,Rh4,Qd3,Rf4+,Kg1,Ne2+,Qxe2', 'Qc5+,Qe3,Qxe3#', 'https://lichess.org/training/HvcdK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HVCpS', 'Blitz', 'Cadillac_V', 1948, 'Crisbenson', 1957, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Nc3,Nf6,e5,Qe7,Nf3,Ne4,Qb3,Nxc3,Bxc3,Bxc3+,Qxc3,O-O,O-O,d6,Rfe1,Nc6,exd6,Qxd6,Rad1,Qf4,h4,Bg4,Re3,Bxf3,Rxf3,Qxh4,Rd7,Ne5,Qxe5,Qxc4,Rxc7,Qxa2,Rxb7,Rae8,Qh5,Re1+,Kh2,Qa1,Qxf7+,Rxf7', 'Rb8+,Re8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/HVCpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hvd1i', 'Rapid', 'ibrahimoase', 1872, 'Cravix1989', 1856, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,c4,Bc5,Nc3,Qb6,Qc2,Nf6,Na4,Bxf2+,Qxf2,Qxf2+,Kxf2,Nxe4+,Kf3,f5,Bd3,Nd6,c5,e4+,Ke3,Nf7,Bc4,d6,b3,d5,Be2,O-O,Bb2,g5,g3,Be6,h4,Rad8,Bd4,f4+,gxf4,gxf4+,Kxf4,Nh6+,Ke3', 'Nf5+,Kd2,Nxd4', 'https://lichess.org/training/Hvd1i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HVFKm', 'Rapid', 'ASzilagyi', 2033, 'victor0708', 2026, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d5,cxd5,exd5,Bg5,c6,e3,Nbd7,Bd3,O-O,Bxh7+,Kh8,Bd3,Be7,Nf3,g6,O-O,Kg7,Bxf6+,Nxf6,e4,dxe4,Nxe4,Nxe4,Bxe4,Bf6,Ne5,Qxd4,Nc4,Be6,b3,Qxa1,Rxa1,Bxa1,Na5,Rab8,Qd1,Be5,g3,Bc3,Nc4,b5,Ne3,c5,Qd6,c4,bxc4,bxc4,Qa6,Rbc8,Qxa7,Bd2', 'Qd4+,Kg8,Qxd2', 'https://lichess.org/training/HVFKm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hVfKv', 'Rapid', 'mateus__h', 1832, 'Luisvil', 1769, 'c4,Nc6,Nc3,e5,g3,Bb4,Bg2,Nf6,Nf3,d6,O-O,O-O,a3,Ba5,b4,Bb6,b5,Be6,bxc6,bxc6,d3,d5,cxd5,cxd5,Nxe5,Qe8,Rb1,Rd8,d4,c5,dxc5,Bxc5,Nd3,Bb6,Nf4,d4,Ne4,Nxe4,Bxe4,Bh3,Bg2,Bxg2,Kxg2', 'Qe4+,Kg1,Qxb1', 'https://lichess.org/training/hVfKv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HVfoP', 'Blitz', 'Rn1353', 2128, 'dima20017', 2221, 'd4,d5,c4,e6,Nf3,Nf6,e3,Nbd7,Nc3,Be7,Bd3,dxc4,Bxc4,b6,O-O,Bb7,Bd3,c5,Qe2,cxd4,exd4,O-O,Rd1,Nd5,Ne5,Bg5,Qh5,h6,Bxg5,f6,Bxh6,fxe5,Bh7+,Kh8,Bxg7+,Kxg7,Qg6+,Kh8,Qh6,Qf6', 'Bg6+,Kg8,Qh7#', 'https://lichess.org/training/HVfoP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hvG0D', 'Rapid', 'ivko73', 1897, 'nukedi', 1923, 'd4,e5,e3,e4,f3,d5,c4,c6,Nc3,Be6,cxd5,cxd5,fxe4,Bb4,Bb5+,Nc6,Bxc6+,bxc6,exd5,Bxd5,Nf3,Bxf3,Qxf3,Nf6,Qxc6+,Nd7,Qe4+,Kf8,O-O,Nf6,Qf3,Bxc3,bxc3,Rc8,Ba3+,Kg8,Bc5,Qd7,Rab1,h6,Rb7,Qg4,Rxa7,Qxf3,Rxf3,Kh7,Rxf7,Ne4,Bb4,Ng5,a4,Rhe8,Rxg7+,Kxg7,Rg3,Kh7,a5,Ne4,Rf3,Nxc3,Bxc3,Rxc3,a6,Re7,d5,Ra3,d6,Rd7,e4,Rxa6,e5,Ra8,Rd3,Re8,Rd5,Kg6,g4,Kf7,Kf2,Ke6,Ra5,Rf8+,Ke3,Rg8,h3,Rg5,Ke4,Rb7,d7,Rxd7,Ra6+,Kf7', 'e6+,Ke7,exd7', 'https://lichess.org/training/hvG0D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HvGXj', 'Blitz', 'Leslik', 2324, 'FM Mariogavilan', 2395, 'g3,c5,Bg2,g6,c4,Bg7,Nc3,Nf6,e3,O-O,Nge2,e6,O-O,d5,cxd5,Nxd5,d4,Nxc3,bxc3,Qc7,Ba3,Nd7,Rb1,Rb8,Qa4,b6,Rfd1,Bb7,e4,Bc6,Qb3,Rfd8,d5,exd5,exd5,Bb7,c4,Re8,Nf4,Ne5,Bb2,Qd7,Re1,Ng4,Bxg7,Kxg7,Bh3,h5,Qc3+,Kg8,Qd3,Qd6,Bxg4,hxg4,Ne6,Rxe6', 'Rxe6,fxe6,Qxg6+', 'https://lichess.org/training/HvGXj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hVJLQ', 'Blitz', 'tomasu_sama', 1674, 'ELAMA', 1687, 'd4,d5,c4,e6,Nc3,c6,Nf3,Nf6,Bg5,Be7,e3,O-O,Be2,Nbd7,O-O,c5,a3,b6,cxd5,exd5,Bxf6,Nxf6,Ne5,Bd6,Nf3,Bc7,dxc5,bxc5,Qb3,Rb8,Qa2,Qd6,Rad1,d4,exd4,cxd4,Rxd4,Qe7,Re1,Be6,Qa1,Rbd8,Bc4,Rxd4,Nxd4,Qd6,Nxe6,Qxh2+,Kf1,fxe6,Bxe6+,Kh8,Qc1,Ne4,Nxe4,Qh4,Qxc7,h6,Qxa7,Qh1+,Ke2,Qxg2,Qe7,Qxe4+,Kd1,Qd3+,Kc1,Rxf2,Qe8+,Kh7,Bb3', 'Qd2+,Kb1,Qxb2#', 'https://lichess.org/training/hVJLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hVKql', 'Rapid', 'WildWhoosh', 1993, 'unclewilly', 2066, 'd4,Nf6,c4,d6,Nc3,e5,e4,exd4,Qxd4,Nc6,Qd1,Be7,Nf3,O-O,Be2,Re8,O-O,Bf8,Qc2,a6,Bg5,h6,Bh4,Be7,Rad1,Nd7,Bxe7,Rxe7,Nd5,Re8,Rfe1,Nc5,Bf1,Bg4,b4,Bxf3,gxf3,Ne6,Bg2,Ncd4,Qc3,c6,Ne3,c5,a3,Qg5,Nd5,Nf4,Nxf4,Qxf4,Re3,Re5,Kh1,Rh5,h3,Re8,Rxd4,cxd4,Qxd4,Qe5,Qd1,Rh4,Rd3,Re6,Rd5,Qf4', 'Rf5,Rxh3+,Bxh3', 'https://lichess.org/training/hVKql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hVLRe', 'Blitz', 'Ebolavirus2500', 1743, 'tom2023', 1762, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,d4,Bf5,c3,Nc6,Nf3,O-O-O,Bd3,Bg6,O-O,e5,c4,Qd6,d5,Nb4,Bb1,e4,Nd2,Nd3,Bxd3,exd3,Nf3,Be7,Re1,Rhe8,b3,Bf6,Rxe8,Rxe8,Be3,Bxa1,Qxa1,Kb8,Qxg7,Qa3,Qa1,a5,Qd4,b6,Qa1,a4,Bc1,Qb4,bxa4,Qxa4,Be3,Kb7,h3,Ra8,c5,Qxa2,c6+,Kb8,Qh8+,Ka7,Qc3,Qxd5,Qa3+,Kb8,Qf8+,Ka7,Qa3+,Qa5,Bxb6+,cxb6,Qe7+,Ka6,Qb7+,Kb5,Nd4+,Kc5', 'Nb3+,Kb5,Nxa5,d2,Qd7', 'https://lichess.org/training/hVLRe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hvM3t', 'Blitz', 'chess_matecian', 2372, 'OxycontinIR', 2221, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,O-O,d6,a4,Bb7,c3,O-O,Nbd2,Na5,Ba2,c5,Re1,Nc6,Nf1,h6,Ng3,Re8,Nf5,Bf8,Be3,d5,Qc2,d4,Bd2,Rc8,axb5,axb5,N3h4,Rc7,f4,Bc8,fxe5,Nxe5,Bf4,Nh5,Bxe5,Rxe5,Qe2,Nf6,Qf3,Be6,Rf1,Bxa2,Rxa2,dxc3,bxc3,c4,Rd2,cxd3,Rxd3,Rd7,Rxd7,Nxd7,Nxh6+,gxh6', 'Qxf7+,Kh8,Ng6#', 'https://lichess.org/training/hvM3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hvM6P', 'Blitz', 'vvorsan', 1979, 'Rooka82', 1917, 'e4,d5,e5,f6,exf6,exf6,f4,c5,Be2,Nc6,Nf3,Bg4,O-O,Bd6,d3,Nge7,c3,O-O,Na3,a6,Nc2,Qc7,Nh4,Bxe2,Qxe2,Rae8,Qf3,d4,c4,b5,b3,Nd8,g3,Ne6,Bd2,Kh8,f5,Ng5,Bxg5,fxg5,Ng2,Rxf5,Qg4,Ref8,Rxf5,Rxf5,Re1,h5,Qxh5+,Kg8,Qe8+,Rf8,Qh5,Nf5,Qxg5,Nxg3,hxg3,Bxg3,Re7', 'Bh2+,Kh1,Rf1#', 'https://lichess.org/training/hvM6P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hvmd2', 'Rapid', 'Chess99parrot', 2213, 'Ijazz', 1942, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,b6,O-O,Bb7,Qe2,Bc5,e5,Nge7,Ne4,O-O,Bg5,h6,Bh4,Qc7,Rac1,Nxe5,Bxe7,Nxf3+,Qxf3,Bxe7,Bd5,Qb8', 'Bxb7,Qxb7,Nf6+,Bxf6,Qxb7', 'https://lichess.org/training/hvmd2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HVMYc', 'Rapid', 'rzshd', 1858, 'samvel53', 1749, 'd4,d5,c4,e6,a3,Nf6,Bg5,h6,Bh4,Be7,Nc3,c6,Nf3,Qb6,b4,Bxb4,axb4,Qxb4,Qc2,Ne4,Rb1', 'Qxc3+,Qxc3,Nxc3', 'https://lichess.org/training/HVMYc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hvNAV', 'Blitz', 'Piuiui', 1593, 'evgeniy_khut41', 1925, 'e4,c5,Nf3,d6,c4,Nc6,Nc3,a6,g3,Nf6,d3,Bg4,Bg2,Ne5,h3,Bh5,g4,Nxf3+,Bxf3,Bg6,Bg5,e6,Qb3,Qc7,Qa4+,Qd7,Bxf6,gxf6,Qxd7+,Kxd7,O-O-O,f5,h4,fxe4,Bxe4,Bxe4,Nxe4,Bg7,f4,Bd4,g5,d5,cxd5,exd5,Nc3,Bxc3,bxc3,Rhe8,Rde1,Rxe1+,Rxe1,Re8,Rxe8,Kxe8,Kd2,Ke7,Ke3,Ke6,d4,c4,Kf3,Kf5,a3,b5,h5,a5,h6,b4,axb4', 'a4,b5,a3,b6,a2,b7,a1=Q', 'https://lichess.org/training/hvNAV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HVOtv', 'Blitz', 'adnaistein', 1571, 'Nik3965', 1694, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Nc3,O-O,O-O,h6,Nd5,Nd4,Nxd4,Bxd4,c3,Bb6,Qf3,Nxd5,Bxd5,c6,Bb3,d6,Qg3,Qf6,Be3,Be6,Bxb6,axb6,Bc2,d5,exd5,Bxd5,c4,Be6,a3,Rfd8,Rae1,b5,c5,Rd5,Bb3,Rxc5,Bxe6,Qxe6,d4,Rc2,Rxe5,Qf6,Rfe1,Rd8,b4,Rxd4,Re8+,Kh7,R8e3,Rdd2,Rf3,Qg6,Qc7,Qe6,Rf1,Qe2,Rxf7', 'Qxf1+,Kxf1,Rc1#', 'https://lichess.org/training/HVOtv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hvpqx', 'Rapid', 'magnak', 1675, 'LickeyMumas', 1661, 'c4,e6,d4,d5,Nf3,Nf6,e3,c5,cxd5,Nxd5,Nc3,cxd4,exd4,Nc6,a3,Be7,Bb5,O-O,O-O,Qb6,Re1', 'Nxc3,bxc3,Qxb5', 'https://lichess.org/training/Hvpqx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hVPT5', 'Rapid', 'Clar726', 2096, 'CarlosRS2008', 2069, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Be2,Nf6,Bf3,c6,d4,Qc7,Nge2,Bf5,Bf4,Qd8,Be5,Nbd7,Ng3,Bg6,Bf4,e6,Qe2,Be7,h4,h5,O-O-O,Nb6,Rhe1,Nfd5,Nxd5,Nxd5,Be5,Bxh4,Bxd5,Qxd5,Kb1,Bxg3,fxg3,Rh7,Qd2,O-O-O,Re3,f6,Bf4,e5,Qb4,exf4,Re7,Rd7,Rde1,Qd6,Re8+,Bxe8,Rxe8+,Kc7', 'Qa5+,b6,Qxa7#', 'https://lichess.org/training/hVPT5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HVQVr', 'Rapid', 'darleks', 1821, 'kkatos', 1772, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,g3,Nc6,Bg2,Bf5,d3,e6,Rb1,Nf6,b4,a6,a4,Bxb4', 'Bxc6+,bxc6,Rxb4', 'https://lichess.org/training/HVQVr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hvrii', 'Rapid', 'Palimpsest0', 1827, 'Shashoo7', 2011, 'd4,Nf6,c4,e6,Nc3,d5,Bf4,c5,cxd5,Nxd5,Nxd5,exd5,dxc5,Bxc5,Nf3,O-O,e3,Nc6,a3,Bg4,Be2,a5,O-O,a4,Rc1,Qb6,Qc2,Be7,Rfd1,Rfd8,Ne1,Bxe2,Qxe2,Bf6,Nd3,d4,Rc2,g6,h4,Bxh4,Bh6,Bf6,Nf4,Ne5,exd4,Rxd4,Rxd4,Qxd4,Rc7,Qb6,Nd5,Qd6,Nxf6+,Qxf6,Rxb7,Re8,Qb5,Rd8,Rb8,Ng4', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/Hvrii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hVSLd', 'Rapid', 'Igorevs', 2172, 'sewelam', 2061, 'e4,d5,exd5,c6,dxc6,Nxc6,Nf3,Bf5,Bb5,e6,O-O,Bd6,d4,Qc7,h3,O-O-O,a4,Nxd4,Nxd4,Nf6,Qe2,Bh2+,Kh1,Rxd4,Be3,Rh4,Bxa7,Bxh3,gxh3,Rxh3,Qc4,Ne4,Qxe4', 'Bg1+,Kxg1,Qh2#', 'https://lichess.org/training/hVSLd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HvsMD', 'Blitz', 'GoD_HaDes', 1969, 'mechchess', 1899, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Be7,Bd3,O-O,O-O,c5,dxc5,Bxc5,Bg5,Be7,Re1,Be6,Nd4,Bd7,Rxe7,Qxe7,Nxd5,Qd6,Nxf6+,gxf6,Be3,Nc6,Nxc6,Qxc6,Qh5,f5,Bh6,Rfe8', 'Bb5,Qg6,Qxg6+,hxg6,Bxd7', 'https://lichess.org/training/HvsMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HVVAX', 'Rapid', 'dsaiko', 1695, 'let56', 1851, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,Be7,d3,Nf6,h3,O-O,O-O,a6,a3,b5,Ba2,b4,axb4,Nxb4,Ne2,Nxa2,Rxa2,Bb7,b3,a5,Bb2,Qb6,Qd2,Bc6,Rfa1,a4,Bc3,axb3,Rxa8,Rxa8,Rxa8+,Bxa8,cxb3,Qxb3,Nc1,Qb1,Qb2,Qxb2,Bxb2,c4,Bxf6,Bxf6,dxc4,Bxe4,Nd2,Bc2,Ne2,Bd3,Nf4,Bc2,Ne2,h6,f4,Kf8,Kf2,Ke7,Ke3,Kd6,Nd4,Bxd4+,Kxd4,f6,g4,Kc6,h4,Bd1,g5,Be2,Ne4,f5,Nc3,Bf1,Na4,d6,Nc3,Kd7,Nb5,Ke7,Nc3,Bg2,c5,dxc5+,Kxc5,hxg5,hxg5,Kf7,Kd4,Bf3,Ke5,Bc6,Ne2,Bd7,Nd4,Ke7,Ne2,Bc6,Nd4,Bd5,Ne2,Ba2,Nd4,Kd7,Ne2,Bc4,Nd4,Ba6', 'Nxe6,Bc4,Nxg7', 'https://lichess.org/training/HVVAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hVWg7', 'Rapid', 'danflattery', 1665, 'BdIoPrOiLaAnR', 1693, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,e3,Bg4,Bb5,Bxf3,Qxf3,e5,dxe5,Ne4,Nxe4,dxe4,Qxe4', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/hVWg7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hvxce', 'Rapid', 'ciklop777', 1611, 'gusigusi', 1831, 'e4,e5,Nf3,Nf6,Nc3,Nc6,a3,Nxe4,Nxe4,d5,Nc3,e4,Ng1,Bc5,d3,Bxf2+,Kxf2,Qf6+,Ke2', 'Bg4+,Ke1,Bxd1', 'https://lichess.org/training/Hvxce');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hVxCj', 'Classical', 'Vivern-Gorgon80', 2027, 'chessdzia21', 1998, 'd4,d5,c4,c5,dxc5,d4,Nf3,Nc6,a3,a5,e3,e5,exd4,exd4,Bf4,Bxc5,Bd3,Nf6,Nbd2,Be6,O-O,O-O,Re1,h6,h3,Be7,b3,g5,Bh2,Nd7,Ne5,Bd6,Nxd7,Bxh2+,Kxh2,Qxd7,Qh5,Kg7,Ne4,Bf5,Rad1,Ne5,Nc5,Qd6,Bxf5', 'Nf3+,Kh1,Qh2#', 'https://lichess.org/training/hVxCj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HvXqW', 'Classical', 'mahammadhemn', 1997, 'rinat16', 1953, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,Be6,Bb5+,c6,Ba4,Be7,O-O,h6,d4,g5,dxe5,dxe5,Qxd8+,Bxd8,Nxe5,Ba5,Bd2,Nbd7,Nxd7,Bxd7,Rad1,g4,hxg4,Bxg4,f3,Bb6+,Kh1,h5,Ne2,Be6,Bc3,Rh6,Rd6,Rc8,Rfd1,h4,Nf4,Nh5,Nxe6,Ng3+,Kh2,fxe6,Bb3,Ke7,Rd7+,Ke8,Be5,Bf2,Bxg3', 'hxg3#', 'https://lichess.org/training/HvXqW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HVXUR', 'Blitz', 'iwolm_gaetano', 1679, 'Mephyss', 1648, 'e4,c5,b3,Nc6,Bb2,e6,Bb5,d5,exd5,exd5,Ne2,Nf6,O-O,Be7,d4,O-O,dxc5,Ne4,Nd2,Nxc5,Ng3,Bf6,Bxf6,Qxf6,Qf3,Be6,Qxf6,gxf6,Bxc6,bxc6,Rfe1,Rfe8,Nf3,Bg4,Nd4,Rxe1+,Rxe1,Rc8,h3,Bd7,Ngf5,Bxf5,Nxf5,Kf8,Nd4,Ne4,f3,Nd6,Kf2,Nb5,Nxb5,cxb5,Re2,Rc7,Ke3,Re7+,Kd3,Rxe2,Kxe2,Ke7,Kd3,Kd6,Kd4,a5,a3,Kc6,c3,Kd6,g3,Kc6,g4,Kd6,Ke3,Ke5,f4+,Kd6,Kd4,Kc6,Ke3,Kd6,h4,Kc6,Kd4,Kd6,c4,dxc4,bxc4,b4,axb4,axb4,c5+,Kc6,Kc4,b3,Kxb3,Kxc5,Kc3,Kd5,Kd3,Ke6,Ke4,Kd6,Kf5,Ke7,g5,fxg5,Kxg5,Ke6,f5+,Ke5,h5,f6+,Kh6,Kxf5,Kxh7,Kg5,h6,f5,Kh8,Kf6', 'Kg8,f4,h7', 'https://lichess.org/training/HVXUR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hVYfk', 'Blitz', 'T-o-s-a-n', 1790, 'jesusroda', 1526, 'g3,d5,Bg2,c6,d3,e6,Nf3,Nf6,O-O,Nbd7,Nc3,Bd6,e4,O-O,exd5,Bb8,dxc6,Nb6,cxb7,Bxb7,Nh4,Qc7,Bxb7,Qxb7,Ng2,Qc7,Ne4,Nfd7,Bf4,e5,Be3,Nf6,Nxf6+,gxf6,Qg4+,Kh8,Bh6,Rg8,Qf5,Rg6,Be3,Nd5,Nh4,Rg7,c4,Nxe3,fxe3,e4,d4,Rxg3+,Kh1', 'Rg1+,Kxg1,Qxh2#', 'https://lichess.org/training/hVYfk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hvzdk', 'Classical', 'alp_dnc', 1808, 'Jamin5555', 1677, 'e4,c5,c3,e6,Nf3,d5,e5,Nc6,d4,a5,a3,Nge7,Bb5,Bd7,Bg5,Qc7,O-O,Nf5,dxc5,Bxc5,Bxc6,Bxc6,Nd4,Nxd4,cxd4,Bb6,Nc3,O-O,Rc1,Ba7,Nb5,Qb6,Nxa7,Qxa7,Be7,Rfe8,Bc5,b6,Bd6,Rac8,Qg4,a4,Rc3,Bb5,Rfc1,Qa6,Be7', 'Rxc3,Rxc3,Rxe7', 'https://lichess.org/training/hvzdk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HvZDN', 'Classical', 'emreuyars397', 1611, 'crotazzo', 1614, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Bd5,Nf6,Bxc6,dxc6,Nxe5,Bd6,d4,O-O,Re1,Re8,Nc3,Bxe5,dxe5,Qxd1,Nxd1,Ng4,Bf4,f6,Ne3,fxe5,Bg3,Nf6,Nc4,e4,Bxc7,Bf5,Nd6,Re7,Nxf5,Rxc7,Rad1,Re8,Rd4,g6,Nh6+,Kg7,Ng4,Nxg4,Rdxe4,Rxe4,Rxe4,Nf6,Re5,Rd7,f3,Rd2,Re7+,Kf8,Rxb7,Rxc2,Rxa7,Rxb2,a4,c5,Rc7,Rc2,a5,Ne8,Rc8,Ke7,a6,Ra2,Rxc5,Rxa6,Re5+,Kf7,g4,Nd6,Kg2,Nc4,Re4,Ra2+,Kg3,Nd6,Rf4+,Kg7,Rd4,Nb5,Rd7+,Kf6,Rxh7,Nd4,Rd7,Ne2+,Kg2,Nf4+,Kg3,Kg5', 'h4+,Kf6,Kxf4', 'https://lichess.org/training/HvZDN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hw0Rz', 'Rapid', 'SymonJP', 1679, 'Fropsy', 1679, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nc3,Nxb5,Nxb5,Bc5,Nxe5,d6,Nf3,Qf6,h3,Qg6,O-O,Bb6,b3,Bxh3,Nh4,Qg5,Qf3,Nf6,d4,Qxb5,Qxh3,Nxe4,Re1,d5,Nf5,O-O,Qg4,g6,Ne7+,Kh8,Bh6,Rfe8,Nf5,Qd7', 'Bg7+,Kg8,Nh6+,Kxg7,Qxd7', 'https://lichess.org/training/hw0Rz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hW3NN', 'Classical', 'julikonly', 1873, 'Islamms', 1890, 'd4,Nf6,Nf3,d5,e3,Bg4,Be2,Bxf3,Bxf3,e6,c4,c6,O-O,Be7,Nc3,O-O,cxd5,exd5,a3,Nbd7,b4,a6,Na4,Bd6,Nc5,Nxc5,bxc5,Bc7,Rb1,b6,cxb6,Bxb6,Qa4,Qc7,Bd2,c5,dxc5,Bxc5,Rfc1,Rfc8,Bb4,Qd6,Rxc5,Rxc5,Bxc5,Qxc5,g3,h6,Rd1,Qb5,Qc2,Qc4', 'Qxc4,dxc4,Bxa8', 'https://lichess.org/training/hW3NN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hW554', 'Rapid', 'Every2', 1855, 'ClaytonHanka', 1842, 'c4,c6,d4,d5,Nc3,Bf5,Nf3,e6,Bf4,Bb4,cxd5,cxd5,e3,Nc6,Bb5,Ne7,O-O,O-O,a3,Ba5,b4,Bc7,Bg3,Bxg3,fxg3,a6,Be2,b5,Nh4,Bg6,Nxg6,hxg6,Rc1,f6,g4,Kf7,g5,Rh8,gxf6,gxf6,Bg4,Qd6,Qf3,Qxh2+,Kf2,Nf5,Bxf5,gxf5,Ne2,Rh3', 'Qxh3,Qxh3,gxh3', 'https://lichess.org/training/hW554');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hw631', 'Rapid', 'Definitelysatan', 1937, 'aslanoglu1970', 1914, 'e4,e5,c3,d5,exd5,Nf6,c4,Bc5,Nf3,Ne4,d4,exd4,Nxd4,Qf6,Be3,Na6,Bd3', 'Bxd4,Bxd4,Qxd4', 'https://lichess.org/training/Hw631');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hW938', 'Classical', 'TheWinChesster', 1936, 'Dr_KAIN', 2267, 'e4,e5,d4,exd4,c3,d5,Qxd4,dxe4,Qxe4+,Be7,Bc4,Nf6,Qc2,O-O,Ne2,b5,Bd3,Bb7,O-O,a6,Bg5,h6,Bxf6,Bxf6,Bh7+,Kh8,Rd1,Qe7,Bd3,Nd7,Nd2,Nc5,Nb3,Rfe8,Nxc5,Qxc5,Ng3,Qc6,f3,Be5,Ne4,Qb6+,Nf2,c5,Kh1,Bb8,Be4,Qc7,g3,c4,Kg2,Ra7,Bxb7,Rxb7,Ne4,Rb6,Qd2,Rg6,Qd7,Qxd7,Rxd7,f5,Nf2,Kh7,Rad1,Re2,R1d2,Rge6,Kf1,Re1+,Kg2,R1e2,Kf1,Rxd2,Rxd2,Re3,Kg2,Be5,f4,Bf6,Rd6,Re2,Rxa6,Rxb2,a4,b4,cxb4,c3,Kf3,c2,Nd3', 'Rb3,Ke2,Rxd3,Kxd3,c1=Q', 'https://lichess.org/training/hW938');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HW9ja', 'Blitz', 'KILLER_OPG', 2310, 'Pusaka_BKD', 2414, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,O-O,h3,b6,Be2,Bb7,O-O,d6,c4,Nbd7,Nc3,a6,Rc1,Re8,d5,c6,e4,cxd5,exd5,Rc8,Bd3,Nc5,Bc2,e5,dxe6,Nxe6,Be3,Rxc4,Bb3,Rc8,Ng5,d5,Nxe6,Rxe6,Qd2,Rd6,Bd4,Ne4,Nxe4,dxe4,Qf4,Rxc1', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/HW9ja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hW9KN', 'Blitz', 'IM BadAsMe', 2504, 'Champignon', 2210, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Nf6,Qe2,Nxe4,Qxe4,Nd7,Bc4,Nf6,Ne5,e6,Qe2,b5,Bb3,Qc7,d4,Bd6,O-O,Bb7,Bf4,O-O,Rad1,Nd5,Bg3,f5,f4,Rae8,Rfe1,a5,a3,Qc8,c4,Nf6,cxb5,cxb5,Qxb5,Ne4,Qxa5,Bxe5,dxe5,Nc5,Ba2,Qc6,Re2,Ra8,Qc3,Qb6,Qe3,Rfd8,Rxd8+,Rxd8,b4,Rd1+,Re1,Qc6,Qe2,Rxe1+,Bxe1,Ne4,h3,Qc1,Kh2,Qxf4+,g3,Qxe5,Bc4,f4,gxf4,Qxf4+,Kg1,Qg5+,Kh2,Qe5+,Kg1,Qd4+,Kh2,Qd6+,Kg1,Qd4+,Bf2,Nxf2', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/hW9KN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HwaKM', 'Rapid', 'zviv', 1824, 'YSOEDGY', 1813, 'e4,e5,Bc4,Nc6,Qh5,g6,Qf3,Nf6,Ne2,Bg7,a3,d6,h3,Qe7,Nbc3,Be6,d3,Bxc4,dxc4,O-O-O,Bg5,h6,Bh4,g5,Bg3,h5,Qe3,g4,h4,Bh6,Qd3,Nd7,Nd5,Qf8,b4,Ne7,a4,Nxd5,cxd5,f5,exf5,Nf6,c4,e4,Qd4,Kb8,O-O,Bg7,Ra2,Nd7,Qxe4,Re8,Qc2,Ne5,Bxe5,Bxe5,g3,Re7,a5,Rf7,b5,Rxf5,b6,a6,bxc7+,Kxc7,c5,dxc5,Qe4,Rh7,Nc1,Bxg3,Nd3,Re7,Qc4,Bxh4,Qxc5+,Kb8,Rb2,Rc7,Qb6,g3,d6,gxf2+,Kh1,Rg7,Nxf2,Bxf2,Rfxf2,Rxf2,Rxf2,Qc8,Kh2,h4,Rf3,Qc2+,Rf2,Qd3,Qd8+,Ka7', 'Qb6+,Kb8,Rf8#', 'https://lichess.org/training/HwaKM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hwbnc', 'Blitz', 'irrenja', 1621, 'Murmeltier28', 1801, 'f4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Bd3,Nc6,O-O,O-O,Nh4,Nd4,Ne2,Bg4,Nf3,Bxf3,Rxf3,Nxf3+,gxf3,Nh5,f5,gxf5,exf5,Kh8,Be4,Rg8,Ng3,Bd4+,Kg2,Nxg3,hxg3,Be5,f4,Bxf4,Kf3,Be5,g4,e6,d4,Bf6,fxe6,fxe6,Qh1,Rg7,Qh6,Qf8,Ke2,Bxd4,Be3,Bxe3,Kxe3,d5,Bd3,e5,Rf1,Qc5+,Kd2,Re7', 'Rf8+,Rxf8,Qxf8#', 'https://lichess.org/training/Hwbnc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hWC5U', 'Rapid', 'Brochado', 1644, 'inform', 1679, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,d6,h3,h6,d3,Nf6,O-O,O-O,Nd5,Nxd5,Bxd5,a6,Bxc6,bxc6,Bd2,Be6,b4,Bb6,c4,a5,bxa5,Bxa5,Bxa5,Rxa5,d4,exd4,Qxd4,c5,Qc3,Qa8,Nd2,Rxa2', 'Rxa2,Qxa2,Ra1,Qxa1+,Qxa1', 'https://lichess.org/training/hWC5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hwCLz', 'Rapid', 'Ataberk2002', 2004, 'rigochile', 1959, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,Nf6,Nc3,O-O,Be2,e6,O-O,b6,Ndb5,d5,cxd5,exd5,exd5,Nb4,d6,Bf5,Rc1,Ne4,Qb3,Nxc3,bxc3,Nc6,Bf3,Rc8,Rfd1,Ne5,Bd5,Bd7,Nxa7,Ra8,Bxb6,Qg5,Be3,Qg4,f4,Rab8,Qc2,Bf5,Qd2,Nd3,Rb1,Rxb1,Rxb1,Nxf4,Rb4,Bxc3,Qxc3,Qd1+,Kf2,Nd3+,Qxd3,Qxd3,Rd4,Qc2+,Rd2,Qa4,g3,Re8', 'Bc6,Qg4,Bxe8', 'https://lichess.org/training/hwCLz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWCZN', 'Blitz', 'WCM aa_lva04', 2208, 'batasjon', 2221, 'e4,e5,Nf3,d5,d4,dxe4,Nxe5,Bd6,Nc4,Nf6,Nxd6+,Qxd6,c4,O-O,Be2,Nc6,Be3,Rd8,d5,Ne7,Nc3,c6,dxc6,Qc7,cxb7', 'Rxd1+,Rxd1,Bxb7', 'https://lichess.org/training/HWCZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWdLt', 'Rapid', 'natik1069', 1835, 'AlexanderAndreev2006', 1865, 'd4,Nf6,Bf4,d5,e3,a6,Nf3,Bg4,Be2,Nc6,Nbd2,e6,c3,Bd6,Bg3,O-O,Ne5,Bxe2,Qxe2,Bxe5,dxe5,Nd7,f4,f6,O-O-O,fxe5,fxe5,Ncxe5,Rdf1,Qe7,Nf3,Nxf3,Rxf3,Nc5,Rhf1,Rxf3,Rxf3,Re8,Be5,Ne4,Rf4,Qg5,Bxc7,Rc8,Qf3,h6,Ba5,Nf6,Bb4,a5,Bxa5,d4,exd4,Qxa5,Qxb7,Re8,g4,Qxa2,h4,Qa1+,Kc2,Qa4+,Kd3,e5,dxe5,Rd8+,Rd4,Qd1+,Kc4,Qe2+,Kc5,Qxe5+,Kc4,Qe2+,Kb3,Qe6+,Ka3,Re8,g5,hxg5,hxg5,Nh7,Rd7,Qe5,g6,Nf6', 'Rxg7+,Kh8,Rh7+,Nxh7,Qxh7#', 'https://lichess.org/training/HWdLt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hwdod', 'Classical', 'mijaheltal', 2010, 'M7md_S3d', 1944, 'e4,c5,Nf3,Nf6,e5,Nd5,c3,e6,d3,Be7,Be2,Nc6,O-O,d6,exd6,Bxd6,Re1,O-O,d4,h6,h3,Nce7,Bd3,b6,Be4,Bb7,Nbd2,Qc7,Nf1,Rad8,Bd2,Nf6,Bxb7,Qxb7,Qe2,Rfe8,Rac1,Ned5,a3,Nf4,Bxf4,Bxf4,Rcd1,Nd5,c4,Nf6,Qc2,Rc8,dxc5,bxc5,Rd3,Rcd8,Red1,Rb8,Rb1,e5,Rdd1,e4,N3d2,e3,fxe3,Bxe3+,Nxe3,Rxe3,Nf3,Rbe8,Re1,R8e4,Rxe3,Rxe3,b4,Qe7,bxc5,Qxc5,Qf2', 'Ne4,Qxe3,Qxe3+', 'https://lichess.org/training/hwdod');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hwFLG', 'Blitz', 'turquaz55', 1643, 'George103', 1668, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bf5,Bd3,Bxd3,Qxd3,Nf6,O-O,e6,Qb5+,Qd7,a4,Bd6,Bg5,O-O,Bxf6,gxf6,Qd3,Kh8,Qe3,Rg8,Qh6,Rg6,Qh4,Nc6,Nbd2,Qe7,c3,Rag8,g3,Rg4,Qh6,R4g6,Qh5,Qc7,Rae1,Bxg3,hxg3,Rxg3+,fxg3', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/hwFLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWflW', 'Rapid', 'balefire', 1969, 'Dragorac', 1976, 'e4,f5,exf5,Nf6,Nc3,d6,g4,h5,g5,Ng4,Bd3,e5,f3,Qxg5,fxg4,Qh4+,Kf1,hxg4,Qe1,g3,Qxg3', 'Qxg3,hxg3,Rxh1', 'https://lichess.org/training/HWflW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hWGpU', 'Classical', 'LegalRebellion', 1716, 'MartinSamoylov', 1665, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Be3,g6,Qd2,Bg7,c4,a6,Ba4,Nxd4,Bxd7+,Qxd7,Bxd4,Nf6,Qf4,Qe6,Nc3,O-O-O,O-O,Rde8,Rfe1,Nh5,Qe3,Bxd4,Qxd4,f5,Qa7,c6,Rad1,fxe4,Rxe4,Qd7,Rde1,Rxe4,Nxe4,Kc7,f3,Re8,Qd4,Nf4,Kf2,Qd8,Rd1,d5,cxd5,Qxd5', 'Qg7+,Kb6,Rxd5', 'https://lichess.org/training/hWGpU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWgV6', 'Blitz', 'Robocrab', 1922, 'L0Lik', 2041, 'Nf3,g6,d4,Bg7,c4,Nf6,e3,O-O,Nc3,d5,c5,c6,Bd3,Nbd7,Qc2,Re8,O-O,e5,dxe5,Nxe5,Nxe5,Rxe5,b4,Bf5,Bb2,Bxd3,Qxd3,Ne4,Nxe4,Rxe4,Bxg7,Kxg7,a3,Qf6,f3,Re7,e4,dxe4,fxe4,Qe5,Rae1,Rae8,h3,h5,Re2,h4,Qf3,Rd7,Re3,Red8,Kh1,Re7,Kg1,Rd2,Kh1,Red7,Kg1,f6,Kh1,Rb2,Rd3,Re7,Rd6,Re6,Rd7+,Re7,Rd6,Rf7,Kg1,f5,exf5,Rxf5,Qd1,Qe3+,Kh1,Rxf1+,Qxf1,Rf2,Qd1,Re2,Rd7+,Kh6,Qd4', 'Re1+,Kh2,Qg3#', 'https://lichess.org/training/HWgV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hwIJa', 'Rapid', 'Mine-antipersonnel', 1750, 'newenglandsun', 1623, 'e4,e5,Nc3,f5,exf5,d5,Qh5+,g6,fxg6,Nf6,g7+,Nxh5,gxh8=Q,Be6,Qxe5,Ng7,Nf3,Nc6,Qe3,d4,Nxd4,Nxd4,Bc4,Nxc2+,Kd1,Nxe3+,fxe3,Bxc4,d4,Qe7,Re1,c5,Bd2,O-O-O,Kc2,cxd4,exd4,Qf7,Be3,Nf5,Rac1,Qg6,Ne4,Bd5,Kd2+,Kb8,g3,Bxe4,Bf4+,Ka8,Rxe4,Rxd4+,Rxd4,a6,Rd8+,Ka7,Bb8+,Kb6,Bc7+,Kb5,Rxf8', 'Qh6+,Bf4,Qxf8', 'https://lichess.org/training/hwIJa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWkIX', 'Classical', 'GustavoGonzalez', 1889, 'pierre9045', 1866, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,O-O,Be7,Re1,O-O,Bg5,Bd7,Rad1,c5,Qd3,a6,Bxf6,Bxf6,Qxd6,Bg4,Qg3,Qc8,Nd5,Bd8,Rd2,Be6,Nh4,Bxd5,exd5,Bf6,c3,Qd8,Nf5,Bg5,Rd3,Qf6,Re5,Rae8,f4', 'Rxe5,fxe5,Qxf5', 'https://lichess.org/training/HWkIX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HwLh3', 'Rapid', 'enes46', 1767, 'asantoso', 1815, 'Nf3,d5,d4,Nc6,b3,Nf6,Bb2,e6,e3,Bd6,Nbd2,Ne4,Nxe4,dxe4,Ne5,f5', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/HwLh3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hWmPF', 'Rapid', 'LovePeaceHarmony', 1668, 'agresiftattoo', 1663, 'c4,g6,e4,Bg7,d4,d6,Be3,Nf6,Nc3,O-O,Nf3,b6,Be2,Ba6,O-O,Nc6,d5,Nb8,b4,Nbd7,b5,Bb7,a4,a6,Nd4,Nc5,h3,Nfxe4,Nxe4,Nxe4,Bd3,Nc5,Bc2,Nd7,Nc6,Bxc6,bxc6,Ne5,Qe2,Nxc4,Qxc4,Bxa1,Rxa1,Qc8,Bh6,Re8,Qd4,e5,Qc3,Qd8,f4,Qh4', 'Bg5,Qxf4,Bxf4', 'https://lichess.org/training/hWmPF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWpCo', 'Classical', 'Ayguey', 1868, 'pIlaba', 1871, 'h4,e5,d4,e4,Bg5,f6,Bd2,d5,e3,Nc6,Bb5,a6,Bxc6+,bxc6,Ne2,Bg4,c4,Rb8,Qa4,Qd6,c5,Qe6,Nf4,Qd7,Qxa6,Rxb2,Qa8+,Kf7,Bc3,Rc2,Qa4', 'Rc1+,Kd2,Rxh1', 'https://lichess.org/training/HWpCo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HwpKk', 'Blitz', 'scotler-B12', 1963, 'mikalatal', 1954, 'e4,e5,Nf3,Nf6,Bc4,Nc6,Nc3,d6,Ng5,d5,exd5,Nd4,d6,Ne6,dxc7,Qxc7,Bb5+,Bd7,Nxe6,fxe6,O-O,a6,Bxd7+,Qxd7,d3,Bd6,Bg5,O-O,Ne4,Nxe4,dxe4,Qc7,Qd3,Be7,Bxe7,Qxe7,c3,Rad8,Qe3,b5,Qb6,Rd6,Qc5,Rfd8,Qxe5,Rd2,b3,h6,h3,Kf7,f4,R8d3,f5,Rxg2+,Kxg2,Qg5+,Kh2', 'Rd2+,Rf2,Rxf2+,Kh1,Qg2#', 'https://lichess.org/training/HwpKk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hwQHT', 'Blitz', 'Rdq', 1626, 'rizka10', 1573, 'd4,d5,Nf3,Nf6,Bf4,c6,e3,Bg4,Be2,Bxf3,Bxf3,Nbd7,O-O,Nh5,Bg3,Nxg3,fxg3,e5,dxe5,Nxe5,Nc3,Bc5,Qe2,Nc4,Nd1,Qe7,Re1,O-O,b3,Nxe3,Nxe3,Rfe8,Kf2,d4,Kf1,dxe3,Qc4,Qf6,Qxc5,e2+,Kg1,Rad8,Rac1,Qb2,a4,Rd2,Qxa7,Red8,Qxb7,Qxc1,Rxc1', 'Rd1+,Rxd1,Rxd1+,Kf2,e1=Q#', 'https://lichess.org/training/hwQHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWQX6', 'Blitz', 'nicogm123', 1716, 'speriatu_palau', 1518, 'd4,d5,c4,e6,e3,c6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nf6,Nf3,Nbd7,Rc1,O-O,h3,h6,a3,Ne4,cxd5,cxd5,Bd3,Nxc3,Rxc3,a6,Bb1,Nf6,Ne5,Bd7,f3,Rc8,Qc2,Qb6,Ng4,Rxc3', 'Nxf6+,gxf6,Qh7#', 'https://lichess.org/training/HWQX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HwR7G', 'Rapid', 'muhammadishtiaq1040', 1842, 'Imran-Mughal', 1628, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,Bf5,e3,e6,h3,Nbd7,g4,Bg6,h4,h5,g5,Ne4,Nce2,Qa5+,Nc3,Nxc3,bxc3,Qxc3+,Ke2,dxc4,f3,Bd3+,Kf2,Bxf1,Qxf1,e5,dxe5,Nxe5,Ne2,Nd3+,Kg3,Qa5,Qh3,Nxf4,Nxf4,Bd6,Rhe1,O-O,g6,Bxf4+,exf4,Qd5,Re5,Qd4,Rae1,c3,Rxh5,c2,Qg4,Qd2', 'Rh8+,Kxh8,Qh5+,Kg8,Qh7#', 'https://lichess.org/training/HwR7G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hwrYm', 'Rapid', 'arthur_v2', 1731, 'calixbrylle', 1751, 'Nf3,d5,c4,d4,d3,Nf6,b3,Nc6,Bb2,e5,e4,dxe3,fxe3,e4,Ng5,exd3,Bxd3,Be7,O-O,h6,Nxf7,Kxf7,Bxf6,Bxf6,Qh5+,Kf8,Nc3,Qxd3,Nd5,Kg8,Qe8+,Kh7', 'Nxf6+,gxf6,Qf7#', 'https://lichess.org/training/hwrYm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWs2v', 'Rapid', 'Samehelsayed39', 1782, 'bishoysam', 1906, 'd4,e6,c4,g6,Nc3,Bg7,e4,Ne7,e5,h6,Nf3,O-O,h3,d6,Bf4,a6,exd6,cxd6,d5,e5,Be3,Kh7,Bd3,f5,Bc2,Nd7,O-O,Nf6,Re1,Qc7,Qe2,Nfg8,Rac1,b6,Ba4,Rb8,b4,Bd7,c5,dxc5,bxc5,bxc5,Bb3,Qd6,Qc4,Rfc8,Na4,Bb5,Qh4,Bxa4', 'Ng5+,Kh8,Nf7+', 'https://lichess.org/training/HWs2v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWtIf', 'Rapid', 'muhammedbuba', 2043, 'Muleskinner', 2029, 'e4,e6,c4,c5,Nc3,Nc6,d3,g6,Nf3,Nge7,Be3,d6,Be2,Bg7,Bg5,O-O,O-O,f6,Bh4,f5,Rb1,Qe8,Nb5,Qd7,Bg3,Ne5,Nxe5,dxe5,f4,exf4,Bxf4,e5,Be3,b6,exf5,Nxf5,Bg5,Bb7,Nc3,h6,Bc1,Kh7,Bf3,Rad8,Be4,Bxe4,dxe4,Nd4,Nd5,Rxf1+,Qxf1,Rf8', 'Qxf8,Bxf8,Nf6+,Kh8,Nxd7', 'https://lichess.org/training/HWtIf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HwTPi', 'Rapid', 'grm142', 2333, 'Kalatozishvili', 2129, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,Bg7,Bd3,Ne7,Nxe7,Qxe7,O-O,O-O,c4,b4,Nc2,a5,Ne3,Be6,Qh5,Rac8,Nd5,Bxd5,exd5,e4,Rfe1,f5,Qxf5,Qe5,Qxe4,Qxe4,Rxe4,Bxb2,Rae1,Be5,f4,Bc3,R1e3,f5,Rg3+,Kh8,Re6,Bd4+,Kf1,Bc5,Re7,Bd4,Rh3,Bg7,Rh5,a4,Rb7,Rb8,Rxb8,Rxb8,Bxf5,a3,Bxh7,Bd4,Bc2+,Kg8,Ba4', 'b3,Bxb3,Rxb3', 'https://lichess.org/training/HwTPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hWuHf', 'Blitz', 'Humble_Serial_Killer', 1913, 'RasAxel', 1901, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Ne2,Nd7,O-O,c5,c3,c4,Qg3,h6,f4,g6,a4,Bg7,Na3,Ne7,Nb5,O-O,Nd6,Nc8,Nb5,a6,Na3,Ne7,Be3,Nf5,Qf2,Nxe3,Qxe3,Qb6,Qd2,Qc7,Nc2,Kh7,Nb4,a5,Nc2,b6,Ne3,f6,exf6,Nxf6,Ng3,h5,h4,Ng8,Qc2,Rae8,Nxh5,Bh6,g3,Qe7,Ng4,Rf5,Ne5,gxh5,Rf2,Nf6,Kf1,Rg8,Rg2,Ne4,Ke2,Nxg3+,Kf3,Ne4,Rxg8,Kxg8,Qg2+,Kh8,Qg6,Rxf4+,Ke2,Bg7,Qxh5+,Kg8,Ng6,Qf7,Nxf4,Qxf4,Qe8+,Bf8,Rg1+,Kh7', 'Qg6+,Kh8,Qg8#', 'https://lichess.org/training/hWuHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWUJ7', 'Rapid', 'daveatpo', 2157, 'hellboy500', 1955, 'd4,e6,c4,Nf6,Nf3,c5,g3,cxd4,Nxd4,Bb4+,Nd2,Qb6,e3,Nc6,Nxc6,dxc6,Bg2,O-O,O-O,Bxd2,Bxd2,Rd8,Qc2,e5,Bc3,Qc7,Rfd1,Be6,b3,g6,Bb2,Bf5,Qc3,Nd7,Rd2,f6,Rad1,Nc5,f4,Be4,fxe5,Bxg2,Kxg2,Ne4,Rxd8+,Rxd8,Rxd8+,Qxd8,Qd4,Qxd4,exd4,fxe5,dxe5,Kf7,Kf3,Nc5,Ke3,Ke6,g4,a6,Ba3,Nd7,h3,Nxe5,Bb2,Nd7,Kf4,b5,cxb5,cxb5,h4,Nc5,Kg5,Kf7,Kh6,Kg8,Kg5,Kf7,Kh6,Kg8,h5,gxh5,Kxh5,Nd3,Ba3', 'b4,Bxb4,Nxb4', 'https://lichess.org/training/HWUJ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HwVFX', 'Blitz', 'NM johnmac', 2237, 'road3master', 2178, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Bd3,c5,dxc5,Nxe5,Nf3,Nbc6,O-O,Bxc5,Bf4,Bd6,Bg3,Nxd3,Qxd3,Bxg3,hxg3,O-O,Rfe1,Bd7,Rad1,Qf6,b3,a6,Ne2,Nb4,Qd2,a5,c4,Bc6,a3,Na6,cxd5,Bxd5,Qe3,Rac8,Nf4,Bxf3,Qxf3,e5,Nd5,Qxf3,gxf3,Rfe8,f4,f6,fxe5,fxe5,Re3,Nc7,Nb6,Rb8,Rd7,Na8,Nd5,b5,Ne7+,Kf8', 'Rf3#', 'https://lichess.org/training/HwVFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HwWHn', 'Rapid', 'psydack', 2039, 'pmsryu', 2171, 'g3,e6,Bg2,d5,d3,Nf6,Nd2,c5,Ngf3,Be7,O-O,d4,a4,a6,a5,Nc6,Nc4,O-O,Nb6,Rb8,Bf4,Bd6,Bxd6,Qxd6,Nd2,Nd7,Ndc4,Qc7,f4,Nxb6,axb6,Qe7,c3,dxc3,bxc3,Rd8,Qe1,Bd7,Qf2,Be8,g4,f6,f5,e5,h4,Bf7,Ne3,Ra8,c4,Nd4,Bd5,a5,Bxf7+,Qxf7,Nd5,Rxd5,cxd5,Qxd5,g5,a4,gxf6,gxf6,Kh2,Kh8,Qe3,a3,Qh6,Qf7,e4,a2,Rf2,Nb5,Rg2,Nc3,Rag1', 'a1=Q,Rxa1,Rxa1', 'https://lichess.org/training/HwWHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWx9Q', 'Rapid', 'keaka', 1787, 'ThomasWenger', 1981, 'e4,c5,Bc4,e6,Nf3,a6,Nc3,b5,Be2,Bb7,d4,Nf6,e5,Nd5,Be3,Qc7,O-O,d6,exd6,Bxd6,dxc5,Bxc5,a3,Bxe3,fxe3,Nxe3,Qd4,Nf5,Qb4,Qb6+,Kh1,Ne3,Rfc1,Nc6,Qd6,Ng4,h3,Rd8,Qg3,Nf6', 'Qxg7,Rg8,Qxf6', 'https://lichess.org/training/HWx9Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HWxWA', 'Blitz', 'Draynor_village', 1815, 'PillePalle', 1816, 'e4,d6,d4,Nf6,Bd3,c6,c4,e5,d5,Be7,f4,Nbd7,fxe5,Nxe5,Nf3,Bg4,Be2,Bxf3,Bxf3,Nxc4,O-O,Ne5,b3,O-O,Bb2,Qc7,Nd2,Nd3,Qc2,Qb6+,Kh1,Nf2+,Rxf2,Qxf2,Rf1,Qb6,e5,dxe5,Nc4,Qc7,Bxe5,Qd7,d6,Bd8,Be4,Nxe4,Qxe4,f6,Bg3,Re8,Qh4,Qe6,Re1,Qf7,Rxe8+,Qxe8,Qg4,Qf7,d7,Bb6,Nd6,Qd5,Nxb7,c5,Bd6,Qxb7', 'Qe6+,Kh8,Qe8+,Rxe8,dxe8=Q#', 'https://lichess.org/training/HWxWA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hWybg', 'Classical', 'alaearrabbat', 2025, 'H_Roy', 2317, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Bd3,c6,f4,c5,dxc5,Nxc5,Nf3,Bd7,f5,Nc6,fxe6,Bxe6,O-O,a6,a3,b5,Qd2,O-O,Rad1,Nxd3,Qxd3,Rad8,Qe3,b4,axb4,Qxb4,Nd4,Nxd4,Rxd4,Qxb2,Qd3,Rc8,Nxd5,Bxd5,Rxd5,Rxc2,Qf3,Rc1', 'Qxf7+,Rxf7,Rd8+,Rf8,Rxf8#', 'https://lichess.org/training/hWybg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HwzMf', 'Rapid', 'BareaGarcia', 1808, 'artgian', 2020, 'd4,Nf6,Nf3,e6,Bf4,b6,e3,Bb7,Be2,Be7,Nbd2,d5,h4,Nbd7,h5,h6,Ne5,c5,c3,cxd4,exd4,Rc8,g4,Bd6,Nxf7,Kxf7,Bxd6,Re8,f4,Nb8,Be5,Nc6,g5,Nxe5,fxe5,Ne4,g6+,Kg8,Nxe4,dxe4,Qd2', 'e3,Qxe3,Bxh1', 'https://lichess.org/training/HwzMf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HwZoN', 'Rapid', 'Oai', 1828, 'funique95', 1753, 'd4,d5,c4,Bf5,Qb3,dxc4,Qxb7,Nd7,Nc3,Nb6,e4,Bg6,Qc6+,Nd7,Bxc4,Nf6,e5,Nh5,g4,Nf4,Bxf4,e6,h4,h5,Nb5,Bb4+,Ke2,O-O,a3,Ba5,Nf3,Nb6,Bxe6,fxe6,Qxe6+,Bf7,Qc6,Bc4+,Kd1,Rxf4,Nxc7,Rc8,Qd6,Qxd6,exd6,Rxf3,b4,Bxb4,axb4,Rd8,Rxa7,Rxd6,gxh5,Rxd4+,Kc1,Be2,Ne6,Rc4+,Kd2,Rf7,Rxf7,Kxf7,Ng5+,Kf6,Kxe2,Rxb4,f3,Nd5,Ne4+,Kf5,Rg1,Nf4+,Kf1', 'Rb1+,Kf2,Nh3+', 'https://lichess.org/training/HwZoN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HX1LD', 'Rapid', 'xCrowleyx', 1764, 'marcin712', 1750, 'e4,c5,Nf3,e6,d4,d5,Bb5+,Nc6,Ne5,Qa5+,Nc3,Ne7,Qf3,f6,Nxc6,bxc6,Ba4,cxd4,exd5,dxc3,b3,Bb7,dxc6,Qe5+,Be3,Ba6', 'c7+,Kf7,Qxa8', 'https://lichess.org/training/HX1LD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hX32V', 'Rapid', 'honeybee_17', 1795, 'Dael74', 1858, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,Nc3,d4,Nce2,Nc6,Nf3,Bc5,d3,O-O,Bg5,Bg4,Nh4,Re8,f3,Be6,O-O,h6,Bxf6,Qxf6,g3,Bh3,Rf2,Re3,Nf4,Bd7,Nd5,Qe5,Nxe3,dxe3,Re2,Nd4,f4,Nxe2+,Qxe2,Qxb2,Rf1,Bh3,Rd1,Re8,g4,Bxg4,Qxg4,e2+,Kg2,exd1=Q,Qxd1,Qf6,Qg4,Re1,Nf3,Re2+,Kf1,Rf2+,Ke1,Qe7+,Ne5,Rxh2', 'Bxf7+,Qxf7,Nxf7', 'https://lichess.org/training/hX32V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hx3aO', 'Blitz', 'Karan31415', 1861, 'fbian', 1831, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,c3,e6,Nbd2,Nf6,h3,Bxf3,Nxf3,Bd6,Bd3,Nbd7,O-O,O-O,Bg5,Qc7,Re1,h6,Bh4,Rac8,Rc1,a6,a4,Qb6,Qd2,Nh5,Ne5,Qc7,Nxd7,Qxd7,Qe2,Nf4,Qf3,Nxd3,Qxd3,Qxa4,Re3,Bf4,Rf3,Bxc1,Rg3,Qc4,Qf3,Bxb2,Bf6,g6,Qf4,Kh7,h4,Bxc3,h5,Bxd4,hxg6+,fxg6', 'Qxh6+,Kxh6,Rh3#', 'https://lichess.org/training/Hx3aO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hX3yU', 'Rapid', 'Holylowy', 1766, 'Hazem01144', 1691, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,Be7,Bb5+,Bd7,Be3,Bxb5,Nxb5,a6,Nc3,b5,Nd5,Nxd5,Qxd5,Nd7,O-O-O,Nf6,Qc6+,Kf8,Bb6,Qc8,Na5,Qxc6,Nxc6,Nxe4,f3,Nf6,Bc7,Rc8,Bxd6,Rxc6,Bxe5,Re6,Rhe1,g6,g4,Rg8,h3,h6,f4,Nh7,f5,gxf5,gxf5,Bg5+,Kb1,Rc6,Bd6+,Kg7,Rg1,f6,h4,Rd8,hxg5,Rdxd6,gxh6+,Kxh6', 'Rg6+,Kh5,Rh1#', 'https://lichess.org/training/hX3yU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HX4zc', 'Classical', 'JhaVikas', 1951, 'Asond4078', 1863, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nb6,Nc3,Nc6,Nf3,e6,Bb5,a6,Bxc6+,bxc6,Bf4,Bd6,e5,Bb4,O-O,O-O,a3,Nd5', 'Nxd5,Qxd5,axb4', 'https://lichess.org/training/HX4zc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hx7ue', 'Blitz', 'djgulmun', 1688, 'lufegali', 1629, 'e4,g6,d4,b6,Nf3,Bb7,Nc3,Bg7,Be3,e6,Bc4,d5,exd5,exd5,Bb3,Ne7,O-O,O-O,Ne5,c6,Qf3,Nf5,Rfe1,Nd7,Rad1,Nxe5,dxe5,Bxe5,Bxb6,axb6,Rxe5,d4,Ne4,c5,Qg4,Re8', 'Rxe8+,Qxe8,Nf6+,Kg7,Nxe8+', 'https://lichess.org/training/Hx7ue');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxa3e', 'Rapid', 'besnikfej', 1784, 'ivanphilipov', 1913, 'e4,c5,Nf3,Nc6,Nc3,e6,e5,d5,Bb5,a6,Bxc6+,bxc6,d4,cxd4,Nxd4,c5,Nf3,Bb7,Bf4,Ne7,Ne2,d4,Ng3,Qa5+,Bd2,Qb6,O-O,g6,Qe2,Bg7,Rfe1,Rb8,b3,O-O,c3,Bxf3,Qxf3,Nc6,Bf4,Rbd8,c4,Qb8,h4,Bxe5,Bh6,Bg7', 'Bxg7,Kxg7,Qxc6', 'https://lichess.org/training/hxa3e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hXBdm', 'Blitz', 'sampalquita25', 1527, 'spadman', 1568, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,e6,a3,Nc6,d4,Be7,Ng5,Nd5,Nxd5,exd5,Qf3,O-O,h4,dxc4,Be3,Re8,O-O-O,Bf6,Qg3,Ne7,Ne4,Nf5,Nxf6+,Qxf6,Qxc7,Nxe3,fxe3,Rxe3,Rhf1,Qh6', 'Qxf7+,Kh8,Qf8#', 'https://lichess.org/training/hXBdm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxcuK', 'Rapid', 'Sokolll', 2406, 'NM TheLlamaLord', 2500, 'b3,Nf6,Bb2,d5,e3,c5,Nf3,Nc6,Bb5,g6,c4,dxc4,bxc4,Bg7,Nc3,O-O,Bxc6,bxc6,O-O,Rb8,Rb1,Qa5,Qc2,Bf5,d3,Ne8,e4,Bg4,Nd2,Rxb2,Rxb2,Bxc3', 'Nb3,Qc7,Qxc3', 'https://lichess.org/training/hxcuK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxd3C', 'Rapid', 'JirkaF', 1958, 'Brennov', 1850, 'e4,c5,Nf3,Nc6,b4,cxb4,d4,d5,a3,dxe4,Nfd2,e5,Nxe4,Nxd4,Bd3,bxa3,Nxa3,Nf6,Nxf6+,Qxf6,O-O,Be7,Nc4,Be6,Ne3,O-O,Bb2,Bc5,c3,Nf5,Ng4,Qg5,Nxe5,Nh4,Be4,Qxe5,Re1,Qg5,Ra5,b6,Ra4,Rad8,Qe2,Bd5,Bc1,Qf6,Bxd5,Rxd5,Be3,Re8,Qc4,Rd2,Qxh4,Qxc3,Bxd2', 'Rxe1+,Bxe1,Qxe1#', 'https://lichess.org/training/hxd3C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxDPg', 'Rapid', 'Jaune-attend', 2037, 'tunaft', 2122, 'c4,g6,Nc3,Bg7,d4,d5,Nf3,dxc4,e4,Bg4,Bxc4,Bxd4,Qb3,Bxc3+,bxc3,e6,Qxb7,Nd7,Nd4,Ne5,Bb5+,c6,Nxc6', 'Qd1#', 'https://lichess.org/training/hxDPg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hXEFz', 'Rapid', 'jaywalk97', 1640, 'OndeOndePanas', 1545, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Bc4,Nc6,Nf3,Bb4,Qd3,Nf6,O-O,h6,a3,Bd6,Re1,O-O,d5,exd5,Nxd5,Nxd5,Qxd5,Be6,Qe4,Bxc4,Qxc4,Qd7,Bf4,Bxf4,Qxf4,Rae8,Rxe8,Rxe8,c3,g5,Qf6', 'Re6,Qf5,Re1+,Rxe1,Qxf5', 'https://lichess.org/training/hXEFz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HxF0G', 'Classical', 'mpinis', 1813, 'Fb5', 1736, 'e4,c5,Nf3,Nc6,Bb5,Nd4,Bc4,e6,d3,d6,O-O,b5,Bb3,Be7,c3,Nxf3+,Qxf3,Nf6,e5,Nd5,Bxd5,exd5,Qxd5,Rb8,exd6,Bxd6,Re1+,Be6,Na3', 'Bxh2+,Kxh2,Qxd5', 'https://lichess.org/training/HxF0G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hXF6p', 'Rapid', 'kruppe', 1833, 'Gambitmat86', 1879, 'Nc3,Nf6,e4,e5,a3,Nc6,Bc4,Nxe4,Nxe4,d5,Ba2,dxe4,Qe2,Qd4,c3,Qd3,Qh5,g6,Qh4,Be7,Qh6,Bf8,Qh4,Bf5', 'Qf6,Qd7,Qxh8', 'https://lichess.org/training/hXF6p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HxGDi', 'Rapid', 'Akiba-Arg', 2086, 'Arhimet', 2060, 'e4,e6,Nf3,b6,d4,Bb7,Bd3,Na6,O-O,Qe7,c3,g6,Qe2,Nb8,Na3,Bh6,Bxh6,Nxh6,h3,O-O,Qe3,Kg7,Nc4,d6,Nh2,f5,f4,Qh4,Nd2,Nd7,Ndf3,Qd8,Ng5,Qe8,Rae1,fxe4,Bxe4,Bxe4,Qxe4,e5,fxe5,Rxf1+,Nxf1,dxe5,dxe5,Nc5,Qd5,Rd8,Qf3,Rd3,Qf6+,Kg8,e6,Rd6,Ng3,Qf8,Qxf8+,Kxf8,e7+,Ke8,Nxh7,Re6,Rxe6,Nxe6,Nf6+,Kxe7,Nfe4,Nf5,Nxf5+,gxf5,Nd2,Nf4,b3,Ne2+,Kh2,Nxc3,a4,c5,Kg3,Kf6,Kf3,a6,Nc4,b5,axb5,axb5,Nd6,b4,Nc4,Ne4,h4,Ke6,g4,Nd6,Nxd6', 'fxg4+,Kxg4,Kxd6', 'https://lichess.org/training/HxGDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxgIc', 'Blitz', 'Matveich', 1560, 'kuroudo', 1553, 'd4,d6,e3,Bf5,Nf3,Nf6,Bd3,Bg4,h3,Bxf3,Qxf3,c6,O-O,g6,Nc3,Bg7,d5,O-O,dxc6,Nxc6,Ne4,d5,Nxf6+,Bxf6,Qe2,e5,Bb5,Rc8,Bxc6,bxc6,Rb1,c5,b3,Re8,Bb2,d4,exd4,exd4,Qd1,Qb6,Re1,Re6,Rxe6,Qxe6,Qe1,Qxe1+,Rxe1,Rc7,Kf1,Re7,Rxe7,Bxe7,Ke2,f5,c3,dxc3,Bxc3,Kf7,f3,Ke6,g4,Kd5,Kd3,Bd6,a4,Be5,Bxe5,Kxe5,Ke3,f4+,Kd3,g5,Kc4,Kd6,Kb5,Kd5,Ka6', 'c4,bxc4+,Kxc4,Kxa7,Kb4', 'https://lichess.org/training/hxgIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HxGM7', 'Rapid', '2700172', 1888, 'LetsGoRoyals', 1856, 'e4,c5,Bc4,e6,Nc3,Nc6,a3,Nf6,Ba2,b6,f4,d6,d3,Bb7,Nf3,Be7,O-O,O-O,Ne2,Qc7,Ng3,Rad8,c3,b5,f5,Bc8,fxe6,Bxe6,Ng5,Bxa2,Rxa2,Ne5,Qe2,a6,Bd2,Nfg4,h3,Nf6,Nf5,Qa7,Bf4,Nfd7,Nxe7+,Kh8,Nd5,h6,Nf3,Ng6,Bxd6,Rfe8,Qf2,Nde5,Bxc5,Nxf3+,gxf3,Qd7,Qg3,Re5,f4,Rh5,Kh2,Re8,Be3,Ne7,Nxe7,Rxe7,Bd4,f6,Raa1,Qe6,Rae1,Kh7,Rg1,g5,f5,Qb3,Rg2,Rf7,Bf2,Qxb2,Qg4,Rxh3+,Qxh3,Qxc3,Rh1,Qxa3,Bd4,Qd6+,e5,Qxd4,e6,Rc7,Rd2', 'Qf4+,Qg3,Qxd2+', 'https://lichess.org/training/HxGM7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hxgu1', 'Rapid', 'AlexB1234', 1660, 'ginmka', 1956, 'e4,c5,Nc3,Nc6,Nf3,d6,d4,cxd4,Nxd4,g6,Be3,Bg7,Bb5,Bd7,f3,a6,Bxc6,bxc6,Qd2,Nf6,Bh6,O-O,h4,Qb6,Bxg7,Kxg7,g4,e5,Nf5+,gxf5', 'Qg5+,Kh8,Qxf6+', 'https://lichess.org/training/Hxgu1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HxHT2', 'Rapid', 'erwtanthrwpos', 2032, 'Slowfish', 1711, 'd4,Nf6,Bf4,Nd5,Bg3,g6,e3,Bg7,c3,d6,Bc4,Nf6,Nf3,O-O,O-O,Nh5,Bh4,Nd7,h3,Nb6,Bb3,c6,g4,Nf6,a4,Nbd5,Nbd2,Qd7,e4,Nf4,Kh2,Nxg4+,Kg3,Ne3,fxe3', 'Qxh3+,Kf2,Qg2+,Ke1,Nd3#', 'https://lichess.org/training/HxHT2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HxIjy', 'Rapid', 'pavel19371', 1905, 'Nicholas_Alferraz', 1936, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,a6,a4,c5,c3,Nc6,O-O,Rc8,Be3,Qb6,Qd2,cxd4,cxd4,Bb4,Nc3,Nge7,Rfd1,Na5,Qc2,O-O,Qd3,Nc4,Ra2,Nxe3,fxe3,Bxc3,bxc3,Qb3,Rc2,Nf5,g4', 'Nxe3,Qxe3,Qxc2', 'https://lichess.org/training/HxIjy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HXJrR', 'Rapid', 'RobertHarstad', 2004, 'Upornij1978', 2099, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,Bd6,Bg3,c5,c3,O-O,Bd3,Nc6,Ngf3,c4,Bc2,Qc7,e4,dxe4,Nxe4,Nxe4,Bxe4,Ne7,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,f5,Qh4,Bd7,Qh7+,Kf6,Bh4,Bf4,Qh5,g6,Ne4+,Kf7', 'Qh7+,Ke8,Qxe7#', 'https://lichess.org/training/HXJrR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HxKcd', 'Rapid', 'Serhankucuk', 1577, 'NotMyMonkey', 1562, 'e4,e6,Nc3,d5,d4,c5,exd5,exd5,dxc5,Bxc5,Be3,d4,Na4,dxe3,Qxd8+,Kxd8,Nxc5,exf2+,Kxf2,b6,Ne4,Bf5,Nd6,Be6,Re1,Nh6,Bc4,Bxc4,Nxc4,Re8,Nf3,Ng4+,Kg3,h5,Rxe8+,Kxe8,Re1+,Kf8,h3,Nf6,Rd1,Nc6,Nfe5,Nxe5,Nxe5,Ne4+,Kh4,g6,Rd7,f5,Rh7', 'g5+,Kxh5,Nf6+,Kxg5,Nxh7+', 'https://lichess.org/training/HxKcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hXKMV', 'Classical', 'Queen-Daenerys', 1842, 'yeti42', 1902, 'e4,e5,d3,d5,exd5,Qxd5,Nc3,Qe6,Bd2,Nc6,Be2,Bd7,Bf3,O-O-O,Nge2,Be7,O-O,h5,a4,g5,a5,g4,Bd5,Qg6,a6,b6,Nb5,Kb8,c3,Qxd3,c4,Nf6,Bxf7,Rhf8,Nc1,Qh7,Bd5,Nxd5,cxd5,Nd4,Nxd4,exd4,Be1,Bb5,Qxd4,Bxf1,Kxf1,Bc5,Qa4,Rf6,Bc3,Rfd6,Be5,Qf7,Bxd6', 'Qxf2#', 'https://lichess.org/training/hXKMV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HXliQ', 'Blitz', 'Tiomoid', 2221, 'NM janisdaudz', 2196, 'e4,g6,d4,Bg7,f4,c6,Nf3,d5,e5,Bg4,Be2,e6,O-O,Bxf3,Bxf3,Ne7,c3,Nd7,Be3,Rc8,Nd2,c5,Rc1,cxd4,cxd4,Nc6,Nb3,O-O,g4,Qb6,Qd2,a5,Nc5,Nxc5,Rxc5,Nb4,a3,Na6,Rxa5,Rc6,b4,Rc7,Be2,Rfc8,Bxa6,bxa6,Rc5,Bf8,Rxc7,Rxc7,Rc1,Rc4,Rxc4,dxc4,d5,Qb5,d6,Qd7,Qd4,Qc6,d7,Be7,d8=Q+,Bxd8,Qxd8+,Kg7,Qd6,Qf3,Qd2,Qxg4+,Kf2,Qh4+,Kf3,Qh3+,Ke4,Qf1,Kd4,Qa1+,Qc3,Qh1,Kxc4', 'Qd5#', 'https://lichess.org/training/HXliQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hXll2', 'Rapid', 'generationchill', 1820, 'Spleeny1122', 1839, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Qxd4,Nf6,O-O,Bd7,Bxc6,Bxc6,e5,dxe5,Qxd8+,Kxd8,Nxe5,Bd6,Nxf7+,Kd7,Nxh8,Rxh8,Bg5,Ne4,Be3,Be5,c3,Bb5,Re1,Nf6,Bd4,Bd6,Nd2,Rf8,Ne4,Bc6,Nxd6,cxd6,Bxf6,Rxf6,Re3,Rg6,Rg3,Rxg3,hxg3,d5,Kf1,Ke6,Re1+,Kf6,f3,g6,Kf2,h5,Ke3,a6,Kd4,Kf5,Re5+,Kf6,Rxd5,Bxd5,Kxd5,Kf5,Kd6,g5,Kc7,h4,Kxb7,g4,f4', 'h3,gxh3,gxh3', 'https://lichess.org/training/hXll2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HXM3M', 'Blitz', 'radjiv', 1850, 'werty282', 1827, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,e5,dxe5,Qxd8+,Kxd8,Bc4,Be6,Bxe6,fxe6,Bg5,h6,Bh4,g5,Bg3,Bd6,O-O-O,Ke7,Rhe1,Bb4,Bxe5,Rad8,Rxd8,Rxd8,Re3,Bxc3,Bxc3,Nd5,Rf3,Nf4,g3', 'Ne2+,Kb1,Rd1#', 'https://lichess.org/training/HXM3M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HXNqp', 'Rapid', 'volodimir-ua', 1987, 'DeCarlo', 1934, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Nf6,O-O,Bc5,Nxe5,Nxe4,d3,Nxf2,Rxf2,Bxf2+,Kxf2,Qf6+,Nf3,O-O,Nc3,h6,Ne4,Qg6,Bf4,Bf5,Nh4,Qe6,Nc5,Qf6,Nxf5,Qxf5,Qg4,Qxc5+,Be3,Qxc2+,Kg1,Qxb2,Rf1,Kh8', 'Bd4,Qxd4+,Qxd4', 'https://lichess.org/training/HXNqp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hxnra', 'Classical', 'aras5280', 1721, 'onemoremate', 1823, 'e4,c6,d4,d5,e5,c5,Nf3,Bg4,Be2,Nc6,c3,e6,Be3,Nge7,Nbd2,Nf5,Bg5,Qb6,b3,cxd4,cxd4,Ncxd4', 'Nxd4,Nxd4,Bxg4', 'https://lichess.org/training/Hxnra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HXO0b', 'Rapid', 'Dartfon', 1752, 'Furesalim22', 1842, 'e4,e5,Nf3,Nc6,Bb5,d6,d3,Bd7,Ba4,f5,exf5,Bxf5,Nbd2,g6,O-O,Bd7,c3,Nf6,Re1,Be7,Bb3,Bg4,h3,Bxf3,Nxf3,Qd7,d4,e4,Ng5,d5,c4,O-O-O,Nf7,dxc4,Bxc4,Nxd4,Nxd8,Rxd8,Bd2,Nh5,Bc3,Bc5,Bxd4,Bxd4,Kh1,Bxf2,Qxd7+,Kxd7,Red1+,Ke7,Rxd8,Kxd8,g4,Ng3+,Kg2,e3,Rd1+,Ke7,Kf3,c6,Bg8,h6,Bc4,g5,Be2,b5,Rc1,Kd6,b3,a6,a4,h5,axb5,axb5,b4,h4,Rc5,Nh1,Rxg5,Be1,Kxe3,Bxb4,Rg8,Ng3,g5,Bc5+,Kd3,Nf5,g6,Bd4,Ra8,c5,Bg4,Ng7,Ra6+,Ke5,Kc2,b4,Ra7,Kf4,Kb3', 'c4+,Kxb4,Bxa7', 'https://lichess.org/training/HXO0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxPyK', 'Rapid', 'White_Power_5', 1905, 'simnar', 1924, 'e4,c5,f4,Nc6,c3,d6,d4,cxd4,cxd4,e6,Bb5,Ne7,d5,a6,Qa4,exd5,Bxc6+,Nxc6,exd5,b5,Qe4+,Qe7,Qxe7+,Nxe7,Nc3,Bb7,Nf3,Nxd5,Nxd5,Bxd5,Kf2,Bxf3,Kxf3,Kd7,f5,Be7,Bf4,Rac8,Rhd1,Rc5,g4,Rhc8,Rd2,Rc2,Rd3,Rxb2,Rad1,Rc6,Re1,Rxa2,Rde3,Bf6,g5,Bd8,Rd3,Rac2,Kg4,b4,Red1,Bc7,Re3,R2c3,Re4,b3,Rde1,Bd8,Re8,b2,Rf8,R6c4,Ree8,Bxg5,Kxg5,h6+,Kg4,b1=Q,Rd8+,Ke7', 'Rfe8+,Kf6,Rxd6#', 'https://lichess.org/training/hxPyK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HxpYq', 'Rapid', 'Guyho', 1620, 'Gandalf1402', 1691, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe5+,Ne7,Qxc5,Nc6,Qd5,Bb4+,c3,Ba5,Bc4,O-O,O-O,d6,Qd1,Ne5,Bd5,Bb6,Nd2,Qg5,Nc4,Qg6,Nxb6,axb6,f4,Bh3,Rf2,Ng4,gxh3', 'Ne3+,Qg4,Nxg4', 'https://lichess.org/training/HxpYq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HxROg', 'Rapid', 'rezapoursh', 1882, 'Karasakas', 1814, 'e4,e5,Nc3,Nf6,Nf3,Nc6,h3,Bb4,Bb5,Bxc3,bxc3,O-O,d3,d6,a4,a6,Bc4,Be6,Bb3,Re8,c4,Nb4,Bb2,c5,c3,Nc6,Ng5,h6,Nxe6,Rxe6,O-O,Nh7,f4,exf4,Rxf4,Rg6,d4,Qg5,Qf3,cxd4,cxd4,Rf6,Rxf6,Nxf6,d5,Ne5,Bxe5,Qxe5,Re1,Re8,Bc2,Qd4+,Qe3,Qxc4,Bd3,Qxa4,Kh2,Nxd5,Qg3,Nc3,e5,dxe5,Rxe5,Rxe5,Qxe5,Qc6', 'Qb8+,Qe8,Qxe8#', 'https://lichess.org/training/HxROg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxrpi', 'Blitz', 'Alexashka', 1958, 'GhostOfCapa', 1958, 'e4,c5,c4,Nc6,Nc3,g6,d3,Bg7,f4,Nd4,Nf3,Nxf3+,Qxf3,d6,Be2,Nf6,O-O,h5,e5,Ng4,h3,dxe5,hxg4,hxg4,Qd5,Qc7,fxe5,Bxe5,Qxf7+,Kd8,Nd5,Bd4+,Rf2', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/hxrpi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HXtJL', 'Rapid', 'Pablo0000', 1930, 'pms-112', 1778, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,d3,O-O,a3,d6,h3,h6,g4,Nxg4,hxg4,Bxg4,Rg1,h5,Nd5,Nd4,Rg3,Bh4,c3,Nxf3+,Rxf3,c6,Ne3,Bxf3,Qxf3,Qf6,Qxf6,Bxf6,Nf5,Rad8,Be3,d5,exd5,cxd5,Bb3,g6,Ng3,d4,Ne4,Bg7,cxd4,exd4,Bd2,Kh7,O-O-O,f5,Ng5+,Kh8,Ne6,Rc8+,Kb1,Rfe8,Bg5,Rc6,Nf4,Kh7,Bf7,Rec8,Rh1,Bh6,Bxh6,Kxh6,Rg1,Rf8,Bxg6,h4,Bh5,Rff6,Bf3,Rc7,Nd5,Rg7,Rh1,Kg5,Nxf6,Kxf6,Rxh4,b6,Rxd4,Rg1+,Kc2,Rf1,Rd6+,Ke5,Rd5+,Ke6,Kd2,Rxf2+,Ke3', 'Rxf3+,Kxf3,Kxd5', 'https://lichess.org/training/HXtJL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxVlC', 'Rapid', 'dunnycan', 1647, 'Semen_Lobanov', 1665, 'e4,e5,Nf3,Nf6,d3,Nc6,Bd2,Bc5,Be2,Ng4,O-O,d6,a3,h5,h3,a6,Bg5,f6,Bh4,g5,Bg3,h4,Bh2,Nxh2,Nxh2,f5,exf5,Bxf5,Bh5+,Ke7,Bg4,Bxg4,Qxg4,Ke8,Nc3,Qf6,Ne4,Qf4,Qxg5,Qxg5,Nxg5,Nd4,c3,Ne2+,Kh1,Rg8,Ngf3,Nf4,Nxh4,Nxd3,Ng4,Nxb2,Nf6+,Kf7,Nxg8,Kxg8,Rab1,Nd3,Rxb7,Rf8,Rxc7,Nxf2+,Kh2,Ng4+,hxg4,Rxf1,Rc8+,Kg7,Nf5+,Kf6,Ng3,Bg1+,Kh3,Ra1,Ne4+,Ke6,Rc6', 'Kd5,Rxd6+,Kxe4', 'https://lichess.org/training/hxVlC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hXXhy', 'Rapid', 'gudusauer', 1687, 'jenspetermann', 1636, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Nge7,O-O,c4,Bc2,Ng6,Nbd2,Be7,Re1,O-O,Nf1,f5,exf6,Bxf6,Ng5,Nce7,Qh5,h6,Nxe6,Bxe6,Bxg6,Nxg6,Qxg6,Bf7,Qg3,Kh7,Ne3,Qd8,Nf5,Bg6,Ne3,Re8,Bd2,Bh4,Qg4,Qf6,g3,Bg5,Nxd5,Rxe1+,Rxe1,Qd8,Bxg5,Qxd5,Bd2,Bf5,Re5', 'Qxe5,dxe5,Bxg4', 'https://lichess.org/training/hXXhy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HXxmw', 'Rapid', 'Augustine56', 1959, 'captnharry', 1992, 'e4,c5,d4,e6,c3,d5,e5,Nc6,Nf3,cxd4,cxd4,Bb4+,Bd2,Qb6,Be2,Nge7,O-O,Bxd2,Qxd2,O-O,Nc3,Qa5,Rac1,Bd7,a3,Qd8,Nb5,Nf5,Bd3,a6,Bxf5,axb5,Bd3,Ne7,Qe2,Ng6,Bxb5', 'Nf4,Qd2,Bxb5,Qxf4,Bxf1', 'https://lichess.org/training/HXxmw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxXOM', 'Classical', 'yusan2016', 1850, 'Anuj3010', 1858, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,e5,Nd5,c4,Bb4+,Bd2,Bxd2+,Qxd2,Nb6,Nc3,O-O,c5,Nd5,Nxd5,exd5,Nf3,b6,Qxd5,Nc6,cxb6,Qxb6,Bd3,Qb4+,Nd2,Qxb2,O-O,Qxe5,Qb3,Rb8,Qa4,Rb4,Qa3,Rh4', 'Nf3,Qf4,Nxh4', 'https://lichess.org/training/hxXOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HXy6X', 'Rapid', 'strudel', 1830, 'Kostya25', 1751, 'e4,g6,Nf3,Bg7,d4,d5,e5,a6,c4,f6,Bf4,Nc6,Nc3,fxe5,Nxe5,Nf6,Qa4,Bd7,Nxd7,Qxd7,cxd5,Nxd5,Nxd5,Qxd5,Bxc7,Qxd4,Qxd4,Bxd4,Rb1,O-O,Bc4+,Kg7,O-O,Ne5,Bxe5+,Bxe5,Rfe1,Bd6,Bd5,Rab8,g3,b5,Re6,Rbc8,Bb3,Rc5,Rbe1,Rcf5,R1e2,Bc5,Rxa6,Rxf2,Rxf2,Rxf2,Kh1,Rxb2,Ra5,Rb1+,Kg2,Rg1+,Kh3,Bd6,Rxb5,h5,a4,Kh6,a5,g5,Be6,g4+,Bxg4,hxg4+,Kxg4,Ra1,Rh5+,Kg6,Rg5+,Kf6,h4,Ra3,Kh3,e5,Kg2,Rxa5,Kf3,Ra4,Rg4,Ra1,Rc4,Kf5,g4+,Kf6,Rc6,Rd1,Ke4,Rd4+,Kf3,e4+,Ke3,Ke5,h5,Rd3+,Ke2,Kf4,h6,Kxg4,h7,Be5,Re6,Ba1', 'Rxe4+,Kh5,Kxd3', 'https://lichess.org/training/HXy6X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxy9H', 'Rapid', 'GARGORIS', 1671, 'Rairden', 1663, 'e4,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,Bc4,e6,Nf3,d6,cxd6,cxd6,d4,Nb6,Nbd2,dxe5,dxe5,Nxc4,Qa4+,Nc6,Nxc4,Bb4+,Bd2,Bxd2+,Nfxd2,O-O,O-O-O,Qg5,g3,Nxe5,f4,Nd3+,Kb1,Qf5,Nd6,Qg6,N2e4,Nf2', 'f5,exf5,Nxf2', 'https://lichess.org/training/hxy9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxyB2', 'Rapid', 'hajireza', 1626, 'DamirZ87', 1601, 'e4,c6,f4,d5,exd5,Nf6,dxc6,Nxc6,Nf3,e6,d4,Be7,c3,O-O,Bd3,a5,O-O,Rb8,Nbd2,b5,Ne5,Bd7,Ndf3,b4,Qc2,bxc3,Nxc6,Bxc6,bxc3,Qc7,Ng5,g6,Nh3,Ng4,Ng5,Qb7,Nf3,f5,Ne5,Bxg2,Qxg2,Nxe5,fxe5,Qb6,Rb1,Qc7,Bh6,Rfc8,Rxb8,Rxb8,Rb1,Rxb1+,Bxb1,Qxc3,Qa8+,Kf7,Qb7,Qxd4+,Kg2,Qxe5,h4,Qe2+,Kg1,Qg4+,Kf1,Qxh4,Be3,Qh3+,Ke2,Qh2+,Kd3,Qg3,Ke2,Kf6,Bd4+,Kf7,Bc5,Qe5+,Be3,Kf6,Kd3,h5', 'Bd4,Qxd4+,Kxd4', 'https://lichess.org/training/hxyB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HXzAg', 'Blitz', 'almagest369', 1603, 'SPlug', 1646, 'e4,Nf6,Nc3,d6,d4,h6,f4,e6,Bd3,Be7,Nge2,a5,a4,Na6,O-O,Nb4,Bb5+,c6,Bc4,O-O,f5,d5,e5,dxc4,exf6,Bxf6,Ne4,exf5,Nxf6+,Qxf6,c3,Nd3,Nf4,b5,b3,Bb7,axb5,cxb5,bxc4,bxc4,Ra4,Qc6,d5,Qc5+,Kh1,Nf2+,Rxf2,Qxf2,Rxc4,Rad8,h3,g5,Nh5,Kh7,Bxg5,Bxd5,Nf6+,Kg6', 'Qh5+,Kg7,Qxh6#', 'https://lichess.org/training/HXzAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hXZBr', 'Rapid', 'Eye-Con_92', 1861, 'analimari', 1860, 'e4,c6,c4,d5,e5,Bf5,d4,e6,Nf3,Nd7,Nc3,Rc8,c5,b6,b4,a5,a3,bxc5,bxc5,Rb8,Bd3,Bxd3,Qxd3,g6,O-O,Bg7,Bd2,Ne7,Ne2,Nf5,Qa6,Qc8,Qxc8+,Rxc8,Bxa5,O-O,Rfb1,f6,Rb7,Rf7,Rab1,fxe5,dxe5,Nxc5,Rxf7,Kxf7,Ng5+,Kg8,f4,h6,Nf3,Nd3,g3,Ra8,Bb4,Nxb4,axb4,Rb8,Kf2,Bf8,Ned4,c5,Nxe6,Rxb4,Rxb4,cxb4,Nxf8,Kxf8,Ke2,Ke7,Kd2,Ke6,Kc2,g5,Kb3,gxf4,gxf4,Ne3,Nd4+,Kd7,Kxb4,h5,f5,Ng4,e6+,Ke7,h4,Ne3,Kc5,Kf6,Kd6,Nc4+,Kd7,Nb6+,Ke8,Nc8,Kd7,Ne7,Nc6,Nxf5,Nd8,d4,Nf7,d3,Ng5,d2', 'Ne4+,Ke5,Nxd2', 'https://lichess.org/training/hXZBr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HxZdG', 'Rapid', 'qclaske', 2044, 'yousef1234', 1786, 'c4,e5,Nc3,Nf6,d3,Bb4,g3,Bxc3+,bxc3,O-O,Bg2,Re8,e4,c6,Ne2,d5,cxd5,cxd5,O-O,dxe4,dxe4,Nc6,Qb3,Rb8,Be3,Be6,Qb5,a6,Qa4,Bd7,Rfd1,Qc8,Qa3,Ng4,Bb6,Re6,Rab1,Rh6,Rd6,Rxh2,Rbd1,Be8,f3,Rxg2+,Kxg2,Nf6,Qc1,h5,Qg5,Nh7,Qxh5,f6,Rd8,Nxd8,Rxd8', 'Qxd8,Bxd8,Bxh5', 'https://lichess.org/training/HxZdG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hxZR4', 'Blitz', 'CM MasterTol', 2420, 'Mihaiionescu', 2406, 'd4,e6,c4,b6,Nf3,Bb7,g3,Nf6,Bg2,Be7,O-O,O-O,d5,Na6,Nc3,Bb4,Bd2,Nc5,a3,Bxc3,Bxc3,a5,b4,axb4,axb4,Rxa1,Bxa1,Nce4,Nd2,Nxd2,Qxd2,c6,d6,Ne8,c5,Ba6,f4,f5,Re1,Nf6,e4,fxe4,Bxe4,bxc5,bxc5,Bc4,Bb1,Qa8,Bxf6,Rxf6,Qc2,Bd5', 'Qxh7+,Kf7,Qh5+', 'https://lichess.org/training/hxZR4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hy0Bk', 'Blitz', 'al_ef', 2325, 'FM renanreis', 2304, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Nf6,O-O,O-O,h3,h6,c4,dxc4,Bxc4,a6,Nc3,b5,Bd3,Bb7,Be3,Nbd7,Ne5,Nxe5,dxe5,Bxe5,Be2,Qe7,Bf3,Rad8,Qe2,c5,Bxb7,Qxb7,Bxc5,Rfe8,Be3,b4,Na4,Nd5,Rfd1,Bf4,Qf3,Bxe3,fxe3,Rxe3,Rxd5,Rxf3,Rxd8+,Kh7,gxf3,Qxf3,Rad1,Qg3+,Kf1,Qxh3+,Kg1,Qg4+,Kf2,Qf4+,Kg1,Qg5+,Kh1,h5,R8d5,Qg4,Nc5,h4,R5d4,Qf3+,Kg1,Qe3+,Kh1,Qf3+,Kg1,h3,R1d2,Qg3+,Kh1,Qe1+,Kh2,Qe5+,Kxh3,Qxc5,Rh4+,Kg6,Rg2+,Kf6,Rf4+,Ke5', 'Rg5+,Kxf4,Rxc5', 'https://lichess.org/training/hy0Bk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hy2jr', 'Rapid', 'Andranik199013', 1823, 'ARTEMLUKIN', 1803, 'e4,c5,c3,e6,d4,cxd4,cxd4,d5,exd5,exd5,Nc3,Nf6,Bg5,Bb4,Nf3,O-O,Be2,h6,Bh4,Qd6,O-O,Nc6,Nb5,Qd7,Ne5,Nxe5,dxe5,Ne4,f3,Nd2,a3,Bc5+,Bf2,Bxf2+,Rxf2,Nc4,Qd4,Qxb5,b4,Qb6,Qxd5,Ne3,Qe4,Bf5,Qf4,Rad8,a4,Rd4,Qxe3,Rxb4,Qxb6,Rxb6,a5,Rb2,Bc4,Rb4,Bd5,Rd8,Rd1,Be6,Rfd2,Rb5,Bxe6,Rxd2,Bxf7+,Kxf7,Rxd2,Rxe5,Rd7+,Re7,Rxe7+,Kxe7,Kf2,Kd6,Ke3,b6,axb6,axb6,Kd3,Kd5,g3,b5,Kc3,g5,h3,h5,Kb4,Kd4,f4', 'gxf4,gxf4,Ke4', 'https://lichess.org/training/hy2jr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hy3e4', 'Blitz', 'ComplianceWithLaw', 2647, 'FM VladislavKrasikov_FM', 2639, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,e6,d4,cxd4,Qxd4,Nc6,Qd3,Be7,Bf4,Ng4,Rd1,Nge5,Nxe5,dxe5,Qg3,Qb6,Qxg7,Rf8,Bxe5,Qc5,Bb5,Bd7,Bf6,O-O-O,Bxe7,Qxe7,O-O,Rg8,Qh6,Rg6,Qf4,Rdg8,g3,h5,Qd6,Qe8,Na4,e5,Qc5,h4,Rd5,Qe6,Qe3,Qh3,Rd3,hxg3,fxg3,Be6,Nc5,Nd4,Nxe6,fxe6,Bc4,Kb8,Ra3,a6,Rf2,Rd8,Bf1,Qh5,Rd3,Rdg8,Bg2,Qh8,c3,Rf8,cxd4,exd4,Qxd4,e5,Qd6+', 'Rxd6,Rxd6,Rxf2', 'https://lichess.org/training/Hy3e4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hy44j', 'Rapid', 'Jecksen', 2014, 'Ruleirox', 2054, 'd4,Nf6,Nf3,d6,Bf4,g6,e3,Bg7,Bd3,Nbd7,O-O,O-O,Re1,Re8,Nbd2,e5,dxe5,dxe5,Bg5,h6,Bxf6,Nxf6,Bc4,Bg4,h3,Be6,e4,Nh7,c3,Ng5,Nxg5,Qxg5,Nf3,Qh5,Bxe6,g5,Bg4,Qg6,Qb3,h5,Bf5,Qh6,Rad1,Bf6,Rd7,Re7,Rxe7,Bxe7,Nxe5,Qf6,Nxf7,Kg7,Be6,Bc5,Rf1,Re8,Bd5,c6,Nxg5,Qxg5,Qxb7+,Re7,Qxc6,Bb6,c4,Rc7,Qe8,Kh6,Qf8+,Rg7,g3', 'Qxg3+,Kh1,Qxh3#', 'https://lichess.org/training/hy44j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hy59d', 'Rapid', 'Vedant09', 1651, 'ahmadbaqovat', 1645, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,h6,h3,d6,O-O,Be6,Bxe6,fxe6,Be3,Bb4,Bd2,O-O,a3,Ba5,Nb5,Bxd2,Qxd2,d5,exd5,exd5,Rfe1,Re8,Qc3,d4,Qc4+,Qd5', 'Nxc7,Qxc4,dxc4,Rad8,Nxe8', 'https://lichess.org/training/Hy59d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hy5fI', 'Classical', 'Mudde', 1857, 'MaleK28', 1831, 'e4,d5,exd5,Qxd5,Nf3,Nc6,Nc3,Qa5,d4,Bg4,Bd2,O-O-O,Be2,Nf6,O-O,Nxd4,Nxd4,Rxd4,Bxg4+,Nxg4,Ne4,Qh5,h3,Rxe4,hxg4,Qxg4', 'f3,Qh4,fxe4', 'https://lichess.org/training/hy5fI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hY6RM', 'Classical', 'ivo145', 1674, 'caballoloco3', 1709, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Nf6,Bg5,d6,Bc4,Ne5,Nf5,Bxf5,exf5,Nxc4,Qa4+,c6,Qxc4,O-O,O-O,Re8,Nd2,Bb6,Rfe1,Rxe1+,Rxe1,d5,Qh4,Qd6,Bxf6,gxf6,Qg4+,Kh8,Nf3,Rg8,Qh3,Qc5,Nd4,Qd6,Rd1,Qf4,b4,c5,Ne2,Qg5,a3,cxb4,axb4,Re8,Qf3,Re5,g4,Re4,h3,Bc7,Rxd5,Rxe2,Qxe2,Qc1+,Kg2,Qxc3,Rd7', 'Qc6+,Qf3,Qxd7', 'https://lichess.org/training/hY6RM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hy77w', 'Rapid', 'ricdrulr', 1715, 'jbtiez', 1764, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Nf3,Nd7,Bg5,Be7,Be3,a6,Qd2,c5,Na4,cxd4,Bxd4,Rc8,Nc3,Bg6,Bd3,Bxd3,cxd3,Nh6,Be3,Nf5,d4,O-O,O-O,b5,a3,Nb6,b3,Rc7,Rfc1,Qd7,g4,Nxe3,fxe3,Rfc8,g5,Qd8,h4,Rc6,e4,Qc7,exd5,Rxc3,Rxc3,Qxc3,Qxc3,Rxc3,Kg2,Nxd5,b4,Bd8,Kg3,a5,Kg4,h6,gxh6,gxh6,Nd2,a4,Ne4,Bb6,Nxc3,Nxc3,Rc1,Bxd4,Kh5,Kh7,Rf1,Bxe5,Rxf7+,Kg8,Re7,Nb1,Kg6,Kf8,Rxe6,Bg3,h5,Bh2,Kxh6,Nxa3,Rb6,Nc2,Rxb5,a3,Ra5,Bc7,Ra8+,Ke7,Ra7,Kd8,Kg6,Nxb4,Rxa3,Bf4,Ra4,Nd5', 'Rd4,Ke7,Rxd5', 'https://lichess.org/training/hy77w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hyabf', 'Rapid', 'chessyyoonn', 2070, 'ponouangoula', 2030, 'd4,Nf6,Nc3,b6,e4,e6,Nf3,Bb7,e5,Nd5,Bd3,Nxc3,bxc3,d5,O-O,Be7,a4,a5,h3,O-O,Nh2,f5,exf6,Bxf6,Qh5,g6,Qg4,Qd7,Nf3,Nc6,Re1,Rae8,Ne5,Nxe5,dxe5,Bg7,Re3,Bh6,Rg3,Qg7,Qh4,Bxc1,Rxc1,Re7,Re1,Ref7,f3,Rf4,Rg4,Qf7,Qg3,Rxg4,Qxg4,Bc8,Qg5,Qf4,Qxf4,Rxf4,Bb5,Rf7,c4,dxc4,Bxc4,Bd7,Bb3,Rf4,Rd1,Bc8', 'Rd8+,Rf8,Rxc8,Rxc8,Bxe6+,Kf8,Bxc8', 'https://lichess.org/training/Hyabf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hYAbp', 'Blitz', 'IM denis6917', 2490, 'maki1988', 2374, 'Nf3,d5,g3,Nf6,Bg2,c6,O-O,Bf5,d3,e6,Nbd2,h6,Qe1,Be7,e4,Bh7,Qe2,O-O,Re1,a5,a4,Na6,b3,Nb4,Qd1,Nxe4,dxe4,dxe4,Nh4,f5,Bb2,g5,Nc4,gxh4,Qh5,Nxc2,Red1,Qe8,Qxh6,Qg6,Qxg6+,Bxg6,Rac1,Nb4,Rd7,Rfe8,Ne5,Bf6,Rxb7,Rab8,Ra7,hxg3,hxg3,Rbd8,Rc5,Bh5,g4,Re7,Rxe7,Bxe7,Nxc6,Bxc5,Nxd8,Bxg4,Nxe6,Bb6,Bd4,Bxd4,Nxd4,Bd1,Bf1,f4,Bc4+,Kg7,Ne6+,Kf6,Nxf4,Ke5,Kf1,Kxf4,Ke1,e3,Kxd1,exf2,Ke2,Ke5,Kxf2,Kd4,Ke2,Kc5,Kd2,Nc6,Kc3,Nd4,Bd5,Nc6,Bc4,Ne5,Kc2,Nd7,Kc3,Nb6,b4+', 'axb4+,Kd3,Nxc4', 'https://lichess.org/training/hYAbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HyAkM', 'Rapid', 'khenrri', 1635, 'REZA-000', 1705, 'd4,d5,Nf3,Nf6,c4,e6,Bg5,Nbd7,Bxf6,Nxf6,cxd5,exd5,e3,c6,Bd3,Bd6,O-O,O-O,h3,Be6,Nc3,Qc7,Rc1,Rfe8,Bb1,a6,Qd3,c5,dxc5,Qxc5,Ne4', 'dxe4,Rxc5,exd3', 'https://lichess.org/training/HyAkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HYaRh', 'Blitz', 'ERHAN65', 1706, 'octavio2250', 1666, 'e4,e5,Nc3,Nc6,d3,Bc5,Bd2,Nf6,Bg5,Nxe4,Bxd8', 'Bxf2+,Ke2,Nd4#', 'https://lichess.org/training/HYaRh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hyber', 'Rapid', 'sergioconceicao', 1628, 'KpaBlanC', 1639, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Qe2,Qxe2+,Bxe2,Nf6,Nf3,Nc6,d4,Bd7,O-O,O-O-O,a4,Bg4,h3,Bxf3,Bxf3,Nxd4,Be3,Nxc2,Rac1,Nxe3,fxe3,e6,Nb5,Kb8,Rxc7,a6,Rxf7,axb5,axb5,Bc5', 'Rxb7+,Kc8,Rc1', 'https://lichess.org/training/hyber');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hYbJK', 'Classical', 'Digimansion', 1735, 'Pashasak', 1686, 'd4,d5,Nc3,Nf6,Nf3,e6,Bg5,c5,e3,c4,b3,Bb4,Qd2,b5,a3,Bxc3,Qxc3,Nc6,bxc4,bxc4,Rb1', 'Ne4,Bxd8,Nxc3', 'https://lichess.org/training/hYbJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HyBqd', 'Blitz', 'NM rickyrich', 2307, 'jacf18', 2443, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nge2,d6,O-O,e6,d3,Nge7,Be3,Nd4,Qd2,h6,f4,f5,Nd1,O-O,c3,Nxe2+,Qxe2,Rb8,Nf2,b5,a3,a5,d4,cxd4,cxd4,b4,e5,dxe5,dxe5,Bb7,Rfd1,Qe8,axb4,Bxg2,Kxg2,Rxb4,Rxa5,Nd5,Bc5,Qc6,Kg1,Rfb8,Bxb4,Rxb4,Ra6,Qc5,Rxe6,Re4,Qd2,Ne3,Qd8+,Kh7,Qd6,Qc2,Rd2', 'Qc1+,Rd1,Nxd1', 'https://lichess.org/training/HyBqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HYbuZ', 'Rapid', 'CHESSCHAPIN', 1982, 'KingDelCrepone', 1998, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Bd3,Bg4,Bf4,Nc6,c3,e6,Nbd2,Bd6,Bxd6,Qxd6,Qb3,Rb8,O-O,h5,Rfe1,h4,Ne5,Ke7,h3,Bh5,Qc2,g5,Be2,g4,hxg4,Bxg4,Bxg4,Nxg4,Nxg4,h3,g3,Rbg8,Ne5,f6,Ng6+,Kd7,Nxh8,Rxg3+,fxg3', 'Qxg3+,Kf1,Qg2#', 'https://lichess.org/training/HYbuZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hYbvf', 'Rapid', 'NeoPetitPrince', 1883, 'MaggieLB', 2165, 'e4,c5,Ne2,d5,Nbc3,d4,Nd5,e6,Ndf4,Bd6,d3,Nc6,Nh5,Be5,f4,Qh4+,Neg3,g6,fxe5,gxh5,Qxh5,Qxh5,Nxh5,Nxe5,Bf4,Ng6,Bd2,Bd7,Ba5,Kf8,Bc7,Rc8,Bd6+,N8e7,Be2,Rc6,e5,Rb6,Nf6,Bc6,O-O,Rxb2,Bf3,Rxc2,Bxc6,bxc6,Rab1,Kg7,Nh5+,Kh6,g4,Rxa2,Bxe7,Nxe7,Rb7,Ng6,Rbxf7,Nxe5,R7f6+,Kg5,Ng3,Nxd3,Ne4+,Kh4', 'Rh6+,Kxg4,h3#', 'https://lichess.org/training/hYbvf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hYC1i', 'Rapid', 'pmateu8', 1794, 'Narechok', 2093, 'e4,d6,d4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,h4,h5,Qd2,c6,f3,Be6,Bh6,Qc7,Bxg7,Kxg7,Nh3,Bxh3,Rxh3,Nbd7,O-O-O,b5,g4,a5,gxh5,Nxh5,f4,Rh8,Bxh5,Rxh5,f5,Nf6,fxg6,fxg6,Qe2,Qd7,Rg3,Rxh4,Rdg1,Rh6,e5,Nd5,Nxd5,cxd5,e6,Qe8,Rf1,Qh8,Rf7+,Kg8,Qe3,Rf8,Qf4,Rh1+,Kd2,Qh6', 'Rxf8+,Qxf8,Rxg6+,Kh7,Qxf8', 'https://lichess.org/training/hYC1i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HyCBn', 'Rapid', 'BoniekNur', 1685, 'Marcus82', 1972, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,d6,Bd3,Nf6,Nf3,g6,h3,Bg7,Be3,O-O,Nbd2,Bd7,c3,a6,Rb1,Rc8,O-O,b5,Nh2,Ne5,Be2,Nc4,Bxc4,bxc4,f4,Bb5,a4,Bc6,e5,dxe5,fxe5,Ne4,Bd4,Bxe5,Nhf3,Nxd2,Qxd2,Bxd4+,Nxd4,Bxa4,Qh6,e5,Nf3,e4', 'Ng5,Qxg5,Qxg5', 'https://lichess.org/training/HyCBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HYCSe', 'Blitz', 'Malehloa', 1599, 'Qazaqstan96', 1586, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d3,Bc5,c3,O-O,a4,a6,b4,Bd6,Bb2,b6,Re1,Bb7,d4,b5,axb5,axb5,Rxa8,Qxa8,Bxb5,exd4,cxd4,Na7,Bc4,Bxb4,Bc3,Bxc3,Nxc3,Nxe4,Nxe4,Bxe4,Ne5,Bxg2,Qg4,Bd5,Bxd5,Qxd5,Nxd7,Qa5,Re3,Rc8', 'Nf6+,Kh8,Qxc8+,Nxc8,Re8#', 'https://lichess.org/training/HYCSe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hyDNc', 'Rapid', 'Capablanca_56', 1858, 'pgriffin', 1894, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nc6,Nf3,d6,O-O,Nf6,Nxc3,Be6,Nd5,Be7,Re1,Ne5,Nd4,Nxc4,Qa4+,c6,Nxe6,fxe6,Nxf6+,Bxf6,Qxc4,Qd7,Rb1,O-O,Bf4,d5,exd5,exd5,Qb3,Rae8,Qg3,Rxe1+,Rxe1,Re8,Rd1,Qe6,h3,Be5', 'Re1,Bxf4,Rxe6', 'https://lichess.org/training/hyDNc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HYdYA', 'Blitz', 'mma0105', 2165, 'francesc2203', 2129, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Nc3,g6,e5,Ng4,Bxc6,dxc6,h3,Nh6,g4,Bg7,d3,O-O,Bf4,f6,Qe2,Nxg4,hxg4,fxe5,Bxe5,Bxg4,Bxg7,Bxf3,Qe6+,Kxg7,Rh2,Qd6,Qh3,Bh5,Ne4,Qe5,c3,Rf3,Qh4,Rxd3,Kf1,Rad8,Ng3,Rd1+,Rxd1,Rxd1+,Kg2,Qd5+,Kh3,Rd3,Qxe7+,Kh6', 'Qf8+,Kg5,f4#', 'https://lichess.org/training/HYdYA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hyDzA', 'Blitz', 'calandrinon', 1923, 'OliverHandsome', 1920, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be3,Nf6,Be2,Bb4,Qd3,Bxc3+,bxc3,O-O,O-O,Nc6,a3,d6,Bg5,Nd7,Qg3,Nde5,Bh6,Ng6,Be3,Nce5,Bd2,Bd7,h4,f5,f4,Ng4,exf5,exf5,Rae1,h5,Bd3,Qd8,Ne6,Bxe6,Rxe6,Qxh4,Qxh4,Nxh4,Rxd6,Rae8,g3,g5,gxh4,gxh4,Bc4+,Kg7,Rd7+,Kh8,Rxb7,Rf6,Be1,Rg6,Kh1,h3,Bd3,Rxe1,Rxe1', 'Nf2+,Kh2,Rg2#', 'https://lichess.org/training/hyDzA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HyDzQ', 'Blitz', 'Ghostpg', 1726, 'j3kyll', 1779, 'e4,e5,Nf3,Bc5,Bc4,d6,c3,Bg4,h3,Bxf3,Qxf3,Nf6,d4,exd4,cxd4,Bb6,Be3,h6,O-O,O-O,Bd3,Qe7,e5,dxe5,dxe5,Qxe5,Nc3,Nc6,Rae1,Bxe3,Rxe3,Qd4,Rd1,Qb6,Qf5,Nd4,Qf4,Ne6,Qf3,Ng5,Qf5,Qc6,h4,Ne6,Ne4,Nd4', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/HyDzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hyGeX', 'Blitz', 'TimoScKreuzberg', 2435, 'CM Skillcam', 2463, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c4,b4,Nc2,O-O,h4,Qa5,b3,Qc5,Nxf6+,gxf6,Qf3,f5,exf5,e4,Qg4+,Kh8,Ne3,Qe5,Rd1,Nd4,f4,Qc5,Qg5', 'Nf3+,Kf2,Nxg5', 'https://lichess.org/training/hyGeX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HyiH1', 'Blitz', 'lucaspauloxadrez', 1575, 'elorapkebab', 1533, 'e4,c5,Nf3,Nc6,Bc4,a6,d3,e6,Nc3,b5,Bb3,Bb7,O-O,Rc8,a4,b4,Ne2,a5,Ng5,Be7,Nxf7,Kxf7,Ng3,Nf6,e5,Nxe5,f4,Ng6,f5,Ne5,fxe6+,dxe6,Nf5,Rf8,Re1,Ng6', 'Bxe6+,Ke8,Nxg7#', 'https://lichess.org/training/HyiH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HYJ9o', 'Classical', 'RocnalCordoba', 1662, 'PerfectFocus', 1628, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nf3,Bg4,Be2,Nxc3,bxc3,Nc6,O-O,Qd6,d4,Qg6,d5,O-O-O,Bf4,Bh3,Ng5,Bf5,Bg4,e6,Qf3,Rxd5,Rad1,Bd6,c4,Rd4,Bh5,Qf6,Nxf7,Rxf4', 'Nxd6+,cxd6,Qxf4', 'https://lichess.org/training/HYJ9o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hYJnL', 'Rapid', 'albispark', 1797, 'drazed', 1646, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,h6,c3,Nf6,O-O,Bc5,d4,exd4,cxd4,Bb6,e5,Ne4,Bc2,Ng5,Nxg5,hxg5,a3,Nxd4,Be4,c6,Be3,Ne6,Bd2,Bd4,Bc3,Qb6,Qc2,Qc5,Bxd4,Qxc2,Bxc2,Nxd4,Bd1,Bb7,Nd2,O-O-O,Nb3,Ne6,Rc1,Kc7,Nd2,Rh4,g3,Rd4,Nf3,Re4,b3,a5,Nd2,Rd4,Nf3,Rd3,h3,d6,a4,b4,Ne1,Rd5,exd6+,R8xd6,Bf3,Rf5,Bg2,Rd2,Nf3,Rb2,Rfe1,Rxb3,Rxe6,fxe6,Nd4,Ra3,Nb5+,Kb6,Nxa3,bxa3,Rc3,c5', 'Rb3+,Kc7,Rxb7+', 'https://lichess.org/training/hYJnL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HYkaI', 'Blitz', 'NM walchess', 2228, 'OSKAR0V', 2067, 'c4,d6,Nc3,Nf6,d4,g6,e4,Bg7,h3,O-O,Be3,Nc6,Nge2,e5,d5,Ne7,g4,h5,g5,Nh7,h4,f5,gxf6,Nxf6,Ng3,Ng4,Qd2,Bd7,O-O-O,a6,Bh3,Rxf2,Nge2,Rf3,Bxg4,Bxg4,Bg5,Qf8,Rdg1,Qf7,Nd1,Rf8,Nec3,c5,dxc6,Nxc6,Qxd6,Nd4,Rxg4,hxg4,h5,gxh5,Bh6,Bxh6+,Qxh6,Qf4+,Qxf4,R8xf4,Rxh5,g3,Rxe5,g2,Rg5+,Kf7,Rxg2,Rf1,Rh2,Re1,Rh7+,Ke6,Rh6+,Ke5,Rh5+,Kd6', 'Rd5+,Kc6,Rxd4', 'https://lichess.org/training/HYkaI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hYKNO', 'Rapid', 'Tracy824', 2058, 'GuillemGes', 1982, 'e4,e5,Bc4,Bc5,Nf3,d6,O-O,Nf6,d3,Bg4,Be3,Nbd7,Nbd2,O-O,c3,h6,b4,Bb6,a4,a5,Bxb6,Nxb6,Bb3,c6,Qe1,Qc7,Qe3,Rfe8,Nc4,Nxc4,Bxc4,d5,exd5,cxd5,Bb5,d4,cxd4,exd4,Qxd4,Red8,Qe3,axb4,Rac1,Qd6,Ne5,Nd5,Qg3,Be6,Rfe1,Nc3,Qf3,Bd5,Qh5,Nxb5,axb5,b3,Nc4,Bxc4,dxc4,b2,Rb1,Qd2,Qe2', 'Qxe2,Rxe2,Ra1', 'https://lichess.org/training/hYKNO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hyLGC', 'Blitz', 'ratomir', 1632, 'tomtom68', 1775, 'd4,d5,Nf3,Nf6,Nbd2,h6,e3,Bf5,c3,e6,Be2,Bd6,O-O,Nbd7,Re1,c5,Nf1,Rc8,Ng3,Bh7,Bd3,Ne4,Bxe4,dxe4,Nd2,cxd4,cxd4,f5,Qb3,Qf6,Qxb7,Rd8,Qc6,Bb8,Nc4,O-O,b3,Rfe8,Ba3,Rc8,Qxd7,Red8,Qa4,g5,Rac1,f4,exf4,Qxf4,Rcd1,Rf8,Re2,h5,Bxf8,Rxf8,Qd7,Bf5,Nxh5', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/hyLGC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HYmfj', 'Blitz', 'ecolunga1', 1798, 'Sauerpower', 1804, 'e4,e6,Nf3,d5,Nc3,Bb4,exd5,Bxc3,dxc3,exd5,c4,Nf6,cxd5,Nxd5,Bc4,Be6,O-O,O-O,Ng5,Qf6,Nxe6,fxe6,Bxd5,exd5,Qxd5+,Kh8,Qxb7,Nd7,Qd5,Nb6,Qd3,Rad8,Qb3', 'Qxf2+,Rxf2,Rd1+,Rf1,Rdxf1#', 'https://lichess.org/training/HYmfj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hyo8p', 'Blitz', 'NoProblemAtAll', 1581, 'merida275', 1625, 'd4,b6,c4,e6,Nc3,Bb7,e4,Be7,Nf3,c5,Bf4,cxd4,Nxd4,Nc6,Ncb5,d6,Nxc6,Bxc6,Nxd6+,Bxd6,Bxd6,Bxe4,Qa4+,Qd7,Qxd7+,Kxd7,Rd1,Kc6,b4,Nf6,f3,Bg6,c5,Rhd8,a4,Ne8,Bb5+,Kb7', 'c6+,Kc8,Ba6#', 'https://lichess.org/training/hyo8p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hYQzJ', 'Bullet', 'Rambonj', 2146, 'e-chess64', 2061, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,Nc6,Nf3,d6,Bc4,Nb6,Bxf7+,Kxf7,Ng5+,Kg8,e6,d5,Qf3,Qe8', 'Qf7+,Qxf7,exf7#', 'https://lichess.org/training/hYQzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HyROH', 'Blitz', 'ALEXIN65', 2203, 'WFM gulnar_balakanova', 2171, 'c4,c5,Nc3,Nc6,Nf3,d6,e3,Nf6,d4,cxd4,exd4,g6,h3,Bg7,Be2,O-O,O-O,d5,c5,a6,Bf4,Ne4,Bd3,Nxc3,bxc3,b5,cxb6,Qxb6,Rb1,Qa5,Qc2,Be6,Rb7,Rab8,Bxb8,Rxb8,Rxb8+,Nxb8,Qb3,Nd7,Rb1,Bh6,a4,Kg7,Qb4,Qc7,Rb3,Qf4,Rb1,Bxh3,Qxe7,Bg4,Re1,Bxf3,gxf3,Nf6,Qe3,Qh4,Qe5', 'Bf4,Qxf4,Qxf4', 'https://lichess.org/training/HyROH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hys68', 'Classical', 'pjmark', 1732, 'Chessmcgyver', 1797, 'd4,d5,c4,Nf6,Nc3,Bf5,e3,e6,cxd5,exd5,Qa4+,c6,Nge2,Bd6,Ng3,Bg6,Be2,Bxg3,hxg3,Ne4,Qb3,b6,Bd3,Nxf2,Kxf2,Bxd3,Nxd5,Be4,Nf4,Nd7,Rh5,O-O,Bd2,Kh8,Rah1,Nf6,R5h3,Bd5,Qd3,h6,Ng6+,fxg6,Qxg6,Ne4+,Ke2,Qf6', 'Rxh6+,Kg8,Rh8#', 'https://lichess.org/training/Hys68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hySY0', 'Blitz', 'ProBatya', 1696, 'bizdev', 1680, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,Be7,O-O,Bd7,Re1,O-O-O,a3,f5,c4,Qg8,Nc3,e4,dxe4,Bc5,Nd5,h6,e5,Be6,b4,Bb6,Qc2,Nd4,Nxd4,Bxd4,Rb1,g5,Bb2,Bxb2,Rxb2,Bxd5,cxd5,Qxd5,e6,Rhe8,e7,Rxe7,Rf1,Qd3,Qa4,b5,Qxa7', 'Qxf1+,Kxf1,Rd1#', 'https://lichess.org/training/hySY0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HyUBv', 'Rapid', 'Soltor', 2084, 'OperationDoomsday', 1887, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nf3,Nge7,Bc4,O-O,Bg5,h6,Bh4,Re8,O-O,d6,h3,Be6,Bxe6,fxe6,Nc3,a6,a3,Qd7,Qd3,Ng6,Bg3,e5,Rad1,Rad8,b4,Ba7,Nd5,Nd4,Nxd4,Bxd4,Kh1,c6,c3,Ba7,Ne3,Nf4,Bxf4,exf4,Nf5,d5,f3,Qe6,c4,dxe4,Qxd8,Rxd8,Rxd8+,Kh7,fxe4,Qxe4,Nh4,Qe7', 'Rh8+,Kxh8,Ng6+,Kg8,Nxe7+', 'https://lichess.org/training/HyUBv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HYvJp', 'Rapid', 'Ismaelkuma', 1914, 'Thakoen', 1956, 'e4,c5,Nc3,Nc6,Bc4,e6,a3,Be7,d3,d6,Nf3,Nf6,O-O,a6,Bd2,b5,Ba2,e5,Nd5,O-O,c3,Be6,Nxf6+,Bxf6,Bxe6,fxe6,d4,exd4,cxd4,Nxd4,Nxd4,Bxd4,Qe2,Bxb2,Rab1,Bd4,e5,Bxe5,Qe4,Qf6,f4,Bd4+,Kh1,d5,Qe2,e5,fxe5,Qxe5,Qg4,Rxf1+,Rxf1,Re8,Qd7,Qe6,Qb7,c4,h3,Qg6', 'Qxd5+,Qe6,Qxd4', 'https://lichess.org/training/HYvJp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HYvK0', 'Rapid', 'sidorovvf777', 1741, 'Kristovchristophiscy', 1611, 'e4,c5,Bc4,Nc6,c3,e6,a4,Nf6,d3,d5,exd5,exd5,Bb5,Bd7,Bg5,h6,Bh4,a6,Bxc6,Bxc6,d4,cxd4,Qxd4,Be7,Nd2,O-O,Ngf3,g5,Nxg5,hxg5,Bxg5,Nh5,Bh6,Bf6,Qg4+,Ng7,O-O-O,Bd7,Qg3,Bf5,Nf3,Bg6,h4,Re8,h5,Bh7', 'Bxg7,Bxg7,h6', 'https://lichess.org/training/HYvK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HyW4O', 'Rapid', 'chupitodehierbas', 2394, 'oisinoc', 2279, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Bc5,Bxc6,dxc6,O-O,Nd7,Nbd2,O-O,Nc4,f6,b3,Re8,Bb2,Nf8,Re1,Ne6,c3,Ba7,d4,exd4,cxd4,Nf4,Qd2,Ng6,h3,Be6,Rad1,Bf7,Na5,Qc8,Qb4,Bb6,Nc4,a5,Qc3,Nf4,Nxb6,cxb6,Qc1,Nxh3+,gxh3,Qxh3,Qf4,Bh5,Rd3,g5,Qg3,Qxg3+,fxg3,Bg6,Rde3,a4,e5,axb3,axb3,Ra2,R1e2,Bh5,Bc3', 'Rxe2,Rxe2,Bxf3', 'https://lichess.org/training/HyW4O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HYwtw', 'Blitz', 'ice2breaker', 2749, 'FM TormentaNegra', 2568, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e6,g4,d5,exd5,Nxd5,Nde2,Bb4,Bg2,O-O,O-O,Nxc3,Nxc3,Bxc3,bxc3,Qc7,Qd4,e5,Qe3,Nc6,Ba3,Rd8,Rfb1,Be6,Qb6', 'Rd1+,Rxd1,Qxb6', 'https://lichess.org/training/HYwtw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hyXMb', 'Rapid', 'arsamakov1', 2045, 'CitronSauvage', 1932, 'e4,b6,d4,Bb7,Bd3,e6,c4,Nf6,Nc3,Bb4,Qc2,d5,cxd5,exd5,e5,Ne4,Bxe4,dxe4,Ne2,O-O,Be3,Nd7,O-O,c5,Nxe4,cxd4,Bxd4,Rc8,N4c3,Bxc3,Bxc3,Nxe5,Qf5,Qd5,Nf4', 'Nf3+,gxf3,Qxf5', 'https://lichess.org/training/hyXMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hyymi', 'Blitz', 'NM frostbitten', 2378, 'ace1886', 2344, 'e4,c6,d4,d5,e5,c5,dxc5,e6,Be3,Nd7,Bb5,Ne7,Nf3,Nf5,O-O,Nxe3,fxe3,Bxc5,c4,Bxe3+,Kh1,O-O,cxd5,exd5,Qxd5,a6,Bc4,Qb6,Nc3,Qxb2,e6,Nb6,exf7+,Kh8,Qd3,Nxc4,Qxc4,Bd7,Rae1,Rac8,Qd3,Rxc3,Qxd7,Qxa2,Ne5,Bf2,Rc1,Rxc1,Ng6+,hxg6', 'Qh3+,Bh4,Qxh4#', 'https://lichess.org/training/hyymi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hyYNW', 'Rapid', 'heinmir', 2112, 'Khaledshawky', 2127, 'h4,c5,g3,Nc6,c3,d5,Qc2,e5,d3,f5,Bg2,Be6,Nh3,h6,Nd2,Nf6,Nf1,Be7,Bd2,Ng4,f3,Nf6,a3,O-O,Qc1,Qe8,Bxh6,gxh6,Qxh6,Qf7', 'Ng5,Qh5,Qxh5,Nxh5,Nxe6', 'https://lichess.org/training/hyYNW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HyyPu', 'Rapid', 'Kukish66', 2098, 'isuckatchess247', 2108, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,Qb3,Qe7,O-O,Nf6,Ba3,d6,e5,Nxe5,Nxe5,Qxe5,Bxf7+,Kf8,Bc4,a6,cxd4,Qxd4,Bb2,Qh4,Be6,Bxe6,Qxe6,Re8,Qf5,Qh5,Qf4,Qe2,Bxf6', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/HyyPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HyZnt', 'Blitz', 'eab', 1735, 'josemce333', 1744, 'e4,c5,f4,d5,e5,f6,Nf3,fxe5,fxe5,Nc6,Be2,Bg4,O-O,Bxf3,Rxf3,Nxe5,Rf5,Qc7,Qf1,Nf6,d4,Nc4,Bf4,Qb6,b3,Nd6,Bxd6,Qxd6,Bb5+,Kd8,Nd2,e6', 'Rxf6,gxf6,Qxf6+,Qe7,Qxh8,Qg7,Qxg7', 'https://lichess.org/training/HyZnt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HZ3rP', 'Rapid', 'antartic31', 1799, 'francesco1975', 1738, 'e4,e5,Nc3,Bc5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bg4,Be3,Bxe3,fxe3,Qf6,h3,Bxf3,Qxf3,Qxf3,gxf3,Nf6,O-O-O,O-O,Rhg1,a5,Rg3,a4,Rdg1,g6,h4,h5,f4,exf4,exf4,Ng4,f5,gxf5,exf5,f6,Ne4,Kh7,Nc5,b5,Ne6,Rf7,Nc5,a3,b3,b4,Ne4,Re8,Nc5,Re2,Nd7,Rh2,Nb8,c5,Nc6,Rxh4,Nd8,Rf8,Ne6,Rf7,Nf4,Rh2,Nxh5,Rxh5,Rxg4,Re7,Kd2,Re5,Rf4,Rh2+,Kc1,Ree2,Rfg4,Rxc2+,Kd1,Rxa2,Rg7+,Kh6', 'R1g6+,Kh5,Rh7#', 'https://lichess.org/training/HZ3rP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hZ6EB', 'Rapid', 'Sameer72', 1686, 'khattab004', 1721, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Nc3,Ne7,Bc4,O-O,Bg5,a6,Qg4,d5,Qg3,dxc4,Bh6,Ng6,Bg5,Be7,Bxe7,Qxe7,O-O-O,Be6,f4,f5,exf5,Bxf5,h4,Nxf4,Qxf4,Bxc2', 'Qxc4+,Qf7,Qxf7+,Rxf7,Kxc2', 'https://lichess.org/training/hZ6EB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HZ6jm', 'Rapid', 'DUENDECILLOH', 2274, 'FM TormentaNegra', 2414, 'e4,c5,Nf3,d6,g3,Nc6,Bg2,g6,O-O,Bg7,c3,e5,h3,Nge7,Na3,O-O,Nc2,d5,d3,d4,cxd4,cxd4,Nh2,Be6,f4,Qd7,g4,exf4,Bxf4,Be5,Bh6,Rfc8,Nf3,Bg7,Bxg7,Kxg7,Qd2,f6,Qf2,Rf8,Ncxd4,Nxd4,Nxd4,Rad8,Nxe6+,Qxe6,d4,Rc8,d5,Qe5,Rac1,b6,Qd2,Rxc1,Rxc1,Rc8,Rd1,Rd8,b3,g5,Qd4,Qd6,Re1,Ng6,Rc1,Rd7,Rc6', 'Qxc6,dxc6,Rxd4', 'https://lichess.org/training/HZ6jm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hz7xa', 'Classical', 'HafidBonJovi', 1828, 'CerebralAssassin19', 1963, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Bc4,Nf6,Ng5,Ne6,Nxe6,dxe6,d3,Bd7,Bg5,Be7,Be3,O-O,Nd2,b5,Bb3,a5,a3,c5,O-O,Bc6,Ba2,Nd7,Qg4,Nf6,Qe2,Rb8,b3,Qc7,h3,Ba8,f4,exf4,Bxf4,e5,Bg5,Qd6,Rf5,h6,Bh4', 'Qd4+,Kh2,Qxa1', 'https://lichess.org/training/Hz7xa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hz95I', 'Rapid', 'SSDharmawansa', 1699, 'Mik51', 1687, 'e4,e6,d4,c5,Nf3,Nf6,d5,exd5,exd5,d6,c4,h6,Bd3,Bg4,h3,Bd7,O-O,Be7,b3,Na6,a3,Rb8,Nbd2,b5,Bb2,bxc4,Bxc4,Bb5,Qe2,Bxc4,Qxc4,Nc7,Rfe1,O-O,Qh4,Ncxd5,Qg3,Kh7,Nh4,Rg8,Nf5,Qd7,Nxe7,Nxe7,Ne4,Nxe4,Rxe4,Ng6,Rae1,d5,Qd3,d4,Re7,Qd5,b4,c4,Qb1,d3,R7e3,Kh8,Rd1,Rgd8,Qc1,Nf4,Kf1,Qxg2+,Ke1,Qg1+,Kd2,Qxf2+,Kc3,Nd5+,Kxc4,Nxe3+,Kb3,Nxd1', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/hz95I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hz9AX', 'Blitz', 'Achoooo', 2147, 'Yetanotherclown', 2314, 'c4,e5,Nc3,Bb4,Nd5,Bc5,b4,Bf8,a3,c6,Nc3,d5,cxd5,cxd5,d4,e4,Qb3,Be6,Bf4,Nc6,e3,Bd6,Nge2,Nge7,Bxd6,Qxd6,Nf4,g5,Nxe6,fxe6,h4,g4,g3,O-O,Be2,h5,O-O,Nf5,Kg2,Rf7,Rac1,Raf8,Na4,Kh7,Qc2,Nxh4+,gxh4,Rf3,b5,Rh3,Rh1', 'Rxf2+,Kxf2,Qg3+,Kf1,Rxh1#', 'https://lichess.org/training/hz9AX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hZ9UK', 'Rapid', 'iheb', 1971, 'Bjolin', 1964, 'c4,Nf6,Nf3,d6,g3,e5,d3,g6,Bg2,Bg7,O-O,O-O,Nc3,Nc6,a3,Re8,e3,a6,Nd2,Nd7,Nd5,Nc5,Qc2,Kh8,b4,Nd7,Bb2,Nf6,Rab1,Nxd5,Bxd5,Ne7,Bg2,c6,d4,f5,dxe5,dxe5,Rfd1,Qc7,Nf3,Ng8,Rd2,c5,Rbd1,cxb4,axb4,Nf6,Bxe5,Rxe5,Nxe5,Qxe5,Rd8+,Ne8,R1d5,Qe7,Qa4,b5,cxb5,Bb7,R5d7,Qf6,Rxa8,Bxa8,Bxa8,axb5,Qxb5,Qa1+,Kg2,Qxa8+,Rb7', 'Nd6,Qa5,Qxb7+', 'https://lichess.org/training/hZ9UK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hzawb', 'Rapid', 'hoseindel8585', 1665, 'Luis1995', 1668, 'd4,d5,Nc3,Nf6,Bf4,e6,Nb5,Bd6,Nxd6+,cxd6,Nf3,Nc6,g3,O-O,Bg2,Nh5,Bd2,e5,dxe5,dxe5,O-O,Nf6,Bg5,h6,Bd2,Be6,Qc1,Qc7,Bxh6,gxh6,Qxh6,Qe7,Nh4,Nh7,f4,e4,f5,Bd7', 'f6,Qxf6,Rxf6', 'https://lichess.org/training/hzawb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HzB1N', 'Blitz', 'MickelHarlov', 1641, 'MahmoudQuran', 1643, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,h6,h3,O-O,Be3,Bb6,Qd2,Ne7,O-O-O,Bxe3,Qxe3,d6,g4,Be6,Bb3,a6,g5,Nh7,gxh6,g6,h4,b5,h5,b4,Ne2,c5,hxg6,Nxg6,Rhg1,a5,Bxe6,Qf6,Bd5,a4,Bxa8,Rxa8,b3,axb3,axb3,Kf8,Ng5,Nxg5,Qxg5,Qxf2,h7,Kg7,Ng3', 'Ra1+,Kb2,Qd4+,c3,Qxc3#', 'https://lichess.org/training/HzB1N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HzB5P', 'Blitz', 'kinenge', 1897, 'Pandabaer23', 1863, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c3,Bd6,Be3,O-O,Bd3,Bg4,h3,Bh5,Nbd2,c6,Qc2,Bg6,O-O-O,b5,g4,a5,h4,Nxg4,Bxg6,fxg6,Ng5,Nxe3,fxe3,Qd7,h5,h6,hxg6,hxg5,Rdf1,Na6,Qd1,g4,Rh8+,Kxh8,Rh1+,Kg8', 'Rh8+,Kxh8,Qh1+,Bh2,Qxh2+,Kg8,Qh7#', 'https://lichess.org/training/HzB5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HZBFq', 'Rapid', 'chess1championmax', 2051, 'pouya007', 1963, 'Nf3,c5,b3,d6,Bb2,Nc6,e3,Nf6,Be2,g6,d4,cxd4,exd4,Bg7,O-O,O-O,c4,Bg4,h3,Bxf3,Bxf3,Qb6,Re1,Rfe8,Na3,a6,Nc2,Rac8,Qd2,e5,c5,dxc5,dxe5,Rcd8,Qf4,Nd5,Bxd5,Rxd5,e6,Rf5', 'exf7+,Kxf7,Qc4+', 'https://lichess.org/training/HZBFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hZBHC', 'Rapid', 'mionescu', 2208, 'GloomySundays', 2083, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,c4,c5,Nc3,Nc6,dxc5,dxc5,Qxd8,Rxd8,Be3,Nd4,Bxd4,cxd4,Nb5,Nd7,Nbxd4,Nb6,c5,Na4,e3,Nxc5,Rac1,Nd3,Rc2,e5,Nb5,a6,Nc7,Rb8,Rd1,e4,Ne1,Bg4,f3,Nxe1,Rxe1,exf3,Bf1,Bf5,e4,Bd4+,Kh1,f2,Ree2,Bg4,Rxf2,Bxf2,Rxf2,Rd1,Kg2,Rc8,Nd5,Kg7,Ne3,Rxf1,Rxf1,Be6,a3,Bb3,Kf3,h5,h4,Rc5,Rf2,Rc1,Rd2,Rb1,Nd5,Rf1+,Kg2,Re1,Kf3,Bd1+,Kf2,Rh1,Nf4,Bb3,e5,a5,Rd7,Kg8,Rxb7,a4,e6,fxe6,Nxg6,Rh2+,Ke3,Rxb2,Nf4,Ra2,Nxh5,Rxa3,Nf6+,Kf8,Kd4,Bd1,g4,Bxg4,Nxg4,Rh3,Rh7,a3,Ne3,a2,Nc2,Rh2,Kc3', 'Rxc2+,Kxc2,a1=Q', 'https://lichess.org/training/hZBHC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HzcC0', 'Rapid', 'THFC82', 1856, 'alonsosanz', 1846, 'd4,g6,c4,Bg7,Nc3,d6,Nf3,a6,e4,Bg4,Be2,Nc6,Be3,Nf6,Qa4,Qd7,O-O,O-O,d5,Nb8,Qd1,a5,a4,b6,Nd4,Bxe2,Qxe2,Qg4,f3,Qd7,h3,Na6,Nc6,Nb8,Nd4,Na6,f4,Nb4,f5,Nh5,Rf3,Rae8,fxg6,fxg6,Rxf8+,Rxf8,Ne6,Rf7,Rf1', 'Ng3,Rxf7,Nxe2+,Nxe2,Kxf7', 'https://lichess.org/training/HzcC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HZcKZ', 'Rapid', 'Zitti', 1745, 'SemionBabaev', 1706, 'd4,d5,Nf3,Nc6,e3,f5,Bb5,Bd7,Ne5', 'Nxe5,Bxd7+,Nxd7', 'https://lichess.org/training/HZcKZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HZF1a', 'Classical', 'ded56', 1904, 'AUGUSTO61', 1794, 'd4,Nf6,c4,c6,Nc3,d5,cxd5,cxd5,Bg5,e6,e3,h6,Bxf6,Qxf6,Nf3,Nc6,Bd3,Bb4,O-O,a6,a3,Bxc3,bxc3,b5,Re1,Bb7,e4,Na5,e5,Qe7,Nd2,Nc4,Nxc4,bxc4,Bb1,Bc6,Qg4,Qg5,Qf3,Rb8,g3,h5,h4,Qd2,Rd1,Qh6,Qe2,g5,Qe3,gxh4,Qxh6,Rxh6,gxh4,Ke7,Bc2,Rb2,Rdc1,Rh8,Rab1,Rhb8,Kf1', 'Rxc2,Rxc2,Rxb1+', 'https://lichess.org/training/HZF1a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HZfzC', 'Rapid', 'WINRONCHASE', 1798, 'osama-elsabaa', 1682, 'e4,d6,d4,Nf6,Nc3,g6,Be2,Bg7,Be3,O-O,f3,e5,d5,Bd7,g4,h5,h3,c6,Qd2,Re8,O-O-O,cxd5,Nxd5,Nxd5,exd5,e4,fxe4,Rxe4,Bd3,Re8,gxh5,Kh7,Nf3,Rxe3,Qxe3', 'Bh6,Qxh6+,Kxh6', 'https://lichess.org/training/HZfzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hzghM', 'Rapid', 'vve_jozo', 2041, 'Sergey2978', 2038, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,h3,Bf5,Be2,Be7,d3,Nf6,O-O,O-O,a3,Re8,d4,h6,c4,c6,Nc3,Nbd7,Bf4,Bf8,Re1,Qb6,b4,Ne4,Nxe4,Bxe4,c5,dxc5,dxc5,Qd8,Bc4,Qf6,Qxd7,Qxf4,Re3,Rad8,Qxb7', 'Bxf3,Qxf7+,Qxf7,Bxf7+,Kxf7', 'https://lichess.org/training/hzghM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hZGT1', 'Rapid', 'PedrosF1', 1690, 'Styles18', 1683, 'e4,e5,Nf3,Nc6,Bc4,a6,a4,h6,O-O,Bc5,Bxf7+,Kxf7,Nxe5+,Nxe5,Qh5+,Kf6,Qf5+,Ke7,Qxe5+,Kf8,Qxc5+,d6,Qe3,Qf6,d3,Bg4,Nc3,c6,Bd2,Re8,Rae1,g5,f3,Bh5,f4,g4,g3,d5,Qb6,d4,e5,Qe6,Ne4,Bg6,Nc5,Qf5,Bb4,Ne7,Qxb7,Rh7,Qxa6,Nd5,Ne6+,Kg8,Nxd4,Qd7,Qc4,Kh8,Nxc6,h5,Nb8,Rxb8,Ba3,h4,gxh4,Rxh4,b3,Bf5,Bb2,Kh7,e6,Bxe6,Qe4+,Bf5,Qe5,g3,Qxb8,gxh2+,Kh1,Qc6,Qh8+,Kg6,Qxh4', 'Ne3+,Rf3,Qxf3+,Kxh2,Qg2#', 'https://lichess.org/training/hZGT1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hzguv', 'Rapid', 'UrizK', 2045, 'Hpteste', 1824, 'f4,d6,e4,e5,d3,f5,fxe5,dxe5,exf5,Bxf5,Qf3,Qc8,Bg5,Ne7,Ne2,g6,Ng3,Bg7,Nc3,Nbc6,O-O-O,O-O,Qe3,Qe6,Be2,Nd5,Nxd5,Qxd5,Kb1,Be6,b3,a5,Bf3,Qb5,Ne4,a4,Nc3,Qb4,Nd5,Qa3,Qc1,axb3,Qxa3,bxc2+,Kxc2,Rxa3,Kb2,Rfa8,Nxc7,Rxa2+,Kc1,Ra1+,Kd2,R8a2+,Ke3,Rxd1,Rxd1,Bf5', 'Bd5+,Kh8,Bxa2', 'https://lichess.org/training/Hzguv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HzJmP', 'Classical', 'rushenpolla', 1717, 'ChessNeutron', 1684, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Nf3,Nc6,Bb5,Bg4,Bf4,e6,h3,Bh5,Qd3,Bb4,O-O-O,Qa5,Ne5,Rc8,f3,O-O,Ba4,Bxc3,Bxc6,Bxb2+,Kxb2,bxc6,Bd2,Rb8+,Ka1,Qa4,g4,Bg6,Nxg6,hxg6,g5,Nd7,h4,c5,h5,c4,Qe3,Rb3', 'cxb3,cxb3,Qxb3,Qxb3,axb3', 'https://lichess.org/training/HzJmP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HZjTN', 'Blitz', 'hendasa', 1753, 'cicol', 1836, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,Nd6,Nxe5,Be7,d4,O-O,Bb3,Nc6,c3,Kh8,Bf4,Bg5,Qf3,Bxf4,Qxf4,f6', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/HZjTN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hzkQO', 'Blitz', 'mohammad4640', 1829, 'JohnBuhl', 1917, 'e4,c5,Nf3,e6,d4,cxd4,c3,dxc3,Bc4,Qc7,Bb3,Bb4,bxc3,Bxc3+,Nxc3,Qxc3+,Bd2,Qf6,O-O,Ne7,e5,Qf5,Bc2,Qh5,Bb4,Nbc6,Bd6,O-O,Qd3,Re8,h3,Qg6,Qd2,Qh5,Ng5,h6,g4,Qh4,Bh7+,Kf8,Nxf7,Kxf7,Qf4+,Nf5,Rad1,Rh8,Bxf5,exf5,Qxf5+,Ke8,Qg6+,Kd8,Qxg7,Re8,Qf6+,Qxf6,exf6,b6,f7,Rh8,f8=Q+,Rxf8,Bxf8,Ke8,Bxh6,Kf7,g5,Ne5,h4,Nf3+,Kg2,Nxh4+,Kg3,Nf5+,Kg4,d6,Kh5,Bb7,g6+,Kg8,f3,Ng3+,Kg5,Nxf1,Rxf1,Re8,f4,Re2,f5,Re5,Kf6,Bc8,Bg7,a5,Bh6,b5,Be3,Rxe3,g7,Rg3,Re1,Bxf5', 'Re8+,Kh7,Rh8#', 'https://lichess.org/training/hzkQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hzl83', 'Rapid', 'Braugomes', 1905, 'Wedys', 1951, 'd4,f5,Nf3,Nf6,e3,e6,Bd3,b6,Nbd2,Bb7,Qe2,Ne4,Ne5,g6,h4,d6,Nef3,h5,Bxe4,fxe4,Ng5,Qd7,Ndxe4,Be7,Bd2,Nc6,O-O-O,Bxg5,Nxg5,O-O-O,Qd3,Ne7,Nf7,Bxg2,Rhg1,Bf3,Rde1,Rhf8,Nxd8,Kxd8,e4,d5,exd5,Bxd5,Bg5,Kc8,Bxe7,Qxe7,Qxg6,Qxh4,Qg7,Rxf2,Ref1', 'Qf4+,Kb1,Rxf1+,Rxf1,Qxf1#', 'https://lichess.org/training/Hzl83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hZNrn', 'Blitz', 'Ndn_78', 1527, 'dark__shadow', 1881, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nc6,Bf4,a6,Be2,Bf5,a3,e6,Nf3,Nge7,O-O,Bg4,Ne5,Bxe2,Nxe2,Nf5,c3,Bd6,Ng3,Nxg3,Bxg3,O-O,f4,f6,Ng4,Qb6,Qe2,e5,fxe5,fxe5,Nh6+,gxh6,Qg4+,Kh8,Rxf8+,Rxf8,Qe6,Qc7,dxe5,Bxe5,Bxe5+,Qxe5,Qh3,Qf6,Qd3,Ne5,Qe2,Ng4,Qxg4', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/hZNrn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HZoaP', 'Rapid', 'Michael7', 1642, 'MasterWang34', 1616, 'e4,g6,d4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Nf6,Nf3,Nd5,Bd2,Nxc3,Bxc3,Qd7,O-O,Bg7,Bc4,Nc6,Bb5,a6,Bxc6,Qxc6', 'd5,Qc5,Bxg7', 'https://lichess.org/training/HZoaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HzoOR', 'Rapid', 'pratprak92', 1846, 'Jor_heck-70', 1853, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,Be7,c3,h6,d4,exd4,cxd4,Nf6,Nc3,O-O,O-O,a6,a4,b6,Nh2,Bb7,f4,Re8,e5,dxe5,fxe5,Nxd4,exf6,Bxf6,Qg4,Bc8,Qh5,Be6,Ne4,Bxc4,Nxf6+,gxf6,Bxh6,Bxf1', 'Qg4+,Kh7,Qg7#', 'https://lichess.org/training/HzoOR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hZQEg', 'Classical', 'Yuktha', 1985, 'DavidHoweOrtiz', 2041, 'e4,e5,b3,Nf6,d3,Bc5,Be2,Nc6,Nf3,h6,Bd2,O-O,O-O,d5,exd5,Nxd5,Bc3,Nxc3,Nxc3,Be6,Na4,Bd6,h3,Qf6,Nd2,Nd4,Ne4,Nxe2+,Qxe2,Qg6,Nxd6,cxd6,Kh2,Bd5,Rg1,Rac8,c4,Be6,Nc3,Bf5,Rad1,Rfe8,f3,Be6,Nb5,Rc5,Nxd6,Re7,Ne4,Ra5,b4,Ra3,Rge1,f5,Nc5,f4,Ne4,Bf5,Qb2,Ra6,Nc5,Qg3+,Kh1,Rg6,Ne4,Bxe4,dxe4,Ree6,Re2,Rg5,a4,Reg6,Qa2,Rh5,Rf1,Rxh3+,gxh3', 'Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/hZQEg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hZQIi', 'Blitz', 'FM MrBini', 2337, 'Unknown_man1', 2258, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Bd3,O-O,Ne2,Bb7,O-O,d5,a3,Be7,cxd5,exd5,f3,c5,Bd2,Nc6,g4,Re8,Be1,h6,Bg3,Bd6,Bxd6,Qxd6,Bb5,Rxe3,Qd2,Rae8,Rad1,c4,Bxc6,Bxc6,Ng3,Bd7,Nge4,Qf4', 'Nxf6+,gxf6,Nxd5,Qg5,Nxe3', 'https://lichess.org/training/hZQIi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hzROE', 'Rapid', 'elenka', 1936, 'Ceruberuz', 1918, 'c4,e6,g3,Nf6,Bg2,Be7,Nf3,O-O,O-O,d6,d4,c5,Nc3,Nc6,e4,Nxd4,Nxd4,cxd4,Qxd4,e5,Qd3,Bd7,h3,Rc8,b3,Bc6,Be3,a5,a4,Qc7,Nb5,Bxb5,axb5,b6,f4,Nd7,Qd5,Rfd8,fxe5,Nxe5,h4,h6,Bh3,Ra8,Bd4,Bf6,Rxf6,gxf6,Rf1,Kg7,Be3,a4,Qd2,a3,Bxh6+,Kg8,Rxf6,a2,Qg5+,Ng6,Rxg6+,fxg6,Qxg6+,Kh8,Qf6+,Kg8,Be6+,Kh7,Bf5+,Kg8,Qg6+,Kh8,Qh5,a1=Q+,Kg2,Ra2+,Bd2+,Kg8,Be6+,Kf8,Qf5+,Ke8', 'Qg6+,Kf8,Qg8+,Ke7,Qf7#', 'https://lichess.org/training/hzROE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Hzrwt', 'Classical', 'josiahchen', 1620, 'EydenZ', 1617, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,Nc6,Ng5,h6', 'Nxf7,Qe7,Nxh8', 'https://lichess.org/training/Hzrwt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hZs29', 'Rapid', 'alexiosa', 1736, 'Lazlaz19', 1736, 'd4,e6,c4,d5,Bf4,dxc4,e4,Nc6,Bxc4,Bb4+,Nc3,Nxd4,Bxc7,Nc2+', 'Qxc2,Qxc7,Qa4+,Bd7,Qxb4', 'https://lichess.org/training/hZs29');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HZsAn', 'Blitz', 'GM BIZOO', 2467, 'IM kwchez', 2515, 'd4,Nf6,Bg5,d5,Bxf6,gxf6,e3,c5,dxc5,e6,c4,dxc4,Qxd8+,Kxd8,Bxc4,Bxc5,Nd2,Ke7,Ngf3,a6,Ke2,b5,Bd3,Bb7,Be4,Ra7,Bxb7,Rxb7,Rhc1,Bb6,Rc2,Rc7,Rxc7+,Bxc7,a4,Bb6,axb5,axb5,Ne4,Nd7,Nc3,Rb8,g4,b4,Ne4,Rc8,Kd2,b3,Rc1,Ba5+,Kd1,Rd8,Ke2,Rb8,Nd4,Kf8,Nc6,Rc8,Nd6,Rc7,Nb5,Rc8,Nba7,Ra8,Nxa5,Rxa7,Nxb3,Ne5,h3,Ra2,Rc2,Ke7,Nd4,Ra1,b3,Rh1,Rc7+,Kf8,b4,Rb1,b5,Rb2+,Kd1,Nd3,f4,Nf2+,Ke1,Nd3+,Kf1,Kg7,h4,Kf8,g5,fxg5,hxg5,e5,fxe5,Nxe5,Kg1,Rb1+,Kg2,Rb2+,Kg3,Nd3,Nf5,Ke8,Re7+,Kd8,Rxf7,Rxb5,Kg4', 'Ne5+,Kf4,Nxf7', 'https://lichess.org/training/HZsAn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hzSEr', 'Rapid', 'spottz', 2034, 'josecuadros007', 2031, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,h3,h6,a3,a6,d3,Nf6,Qe2,g5,Be3,Ba7,b4,g4,hxg4,Nxg4,Bxa7,Rxa7,b5,axb5,Nxb5,Ra5,d4,exd4,Nbxd4,Nxd4,Nxd4,Ne5,Bd5,c6,Bb3,Bg4,f3,Bd7,Nf5,Bxf5,exf5,Kf8,Qe3,Nc4,Qc3,Re5+,Kf2', 'Qb6+,Kf1,Ne3+', 'https://lichess.org/training/hzSEr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hztRO', 'Rapid', 'DenPolkin', 1646, 'rana14', 1772, 'd4,d5,c4,e6,Nf3,h6,Nc3,Bb4,a3,Bxc3+,bxc3,c6,Bf4,Nd7,c5,Ngf6,Bd6,Qa5,Qc2,Ne4,Nd2,Nxc3', 'Nb3,Qd8,Qxc3', 'https://lichess.org/training/hztRO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hZUXj', 'Classical', 'fresser', 1683, 'AraratIspo', 1842, 'e4,e6,d4,d5,e5,c5,Be3,cxd4,Bxd4,Nc6,Bb5,Bb4+,c3,Be7,Nf3,Bd7,Bxc6,Bxc6,O-O,Nh6,Be3,Nf5,Bd4,O-O,a3,Nxd4,cxd4,Qb6,b4,Bb5,Re1,f6,Nc3,Bd7,Na4,Bxa4,Qxa4,f5,Qd1,Rac8,h3,Rc3,Qd2,Rfc8,Rac1,Qc6,Rxc3,Qxc3,Qxc3,Rxc3,Ra1,a5,bxa5,Rxa3,Rb1,Rxa5,Rxb7,Bd8', 'Rb8,Kf7,Rxd8,Ra1+,Kh2', 'https://lichess.org/training/hZUXj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HzWde', 'Classical', 'david-innes', 1927, 'ChristianWalter', 2107, 'd4,Nf6,e4,Nxe4,Bd3,Nf6,Nf3,d5,Bg5,e6,c3,Nbd7,Nbd2,Bd6,O-O,O-O,Re1,Re8,Ne5,c5,f4,Qb6,Kh1,cxd4,Nxd7,Nxd7,f5,e5,f6,g6,Qf3,e4,Qh3,Ne5,Qh6,Bf8,Qh4,Nxd3,Rf1,e3,Bh6,Bd6,Bg7,e2,Rf3,e1=Q+,Rxe1,Rxe1+,Nf1,Bd7,g3,Qxb2,g4,Qe2', 'Qxh7+,Kxh7,Rh3+,Kg8,Rh8#', 'https://lichess.org/training/HzWde');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hzWp6', 'Rapid', 'Catalan_Republic', 1951, 'NyBro', 1987, 'd4,g6,e4,Bg7,e5,b6,Nf3,Bb7,Bb5,c6,Bc4,d5,Be2,e6,Bg5,Ne7,Nc3,Nd7,Na4,f6,exf6,Bxf6,Qd2,Nf5,c3,b5,Nc5,Nxc5,dxc5,O-O,h4,Bxg5,hxg5,a5,O-O-O,a4,a3,Qe7,Rh2,Qxc5,Rdh1,Rf7,Ne5,Re7,Nxg6,hxg6,Rh8+,Kf7', 'R1h7+,Ng7,Qf4#', 'https://lichess.org/training/hzWp6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hZxMC', 'Rapid', 'zaloha', 1810, 'walruteer', 1874, 'c4,b6,Nc3,Bb7,e4,Nf6,d3,e6,Nf3,Bb4,a3,Bxc3+,bxc3,d6,Bg5,Nbd7,Be2,h6,Be3,O-O,O-O,Nc5,Qc2,e5,Bxc5,bxc5,Rab1,Rb8,Rb2,Ba8,Rfb1,Rxb2,Rxb2,c6,Qa4,a5,Rd2,Qb6,Qc2,Rb8,Ne1,Qb3,a4,Qxc2,Rxc2,Rb3,Bd1,Ra3,Rb2,Nd7,Rd2,Rxc3,Bg4,Nf6,Bc8,d5,Rb2,Rc1,Kf1,dxe4,Ke2,exd3+,Nxd3,Rxc4,Rb8,Re4+,Kf3,Rxa4,Rxa8,e4+,Ke3,exd3', 'Bf5+,Ne8,Rxe8#', 'https://lichess.org/training/hZxMC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HzXmO', 'Rapid', 'gazozkapagi_2', 1767, 'saoo', 1792, 'e4,c5,Bc4,Nc6,Nf3,d6,O-O,a6,c3,Bg4,Re1,Ne5,Be2,Nf6,Nxe5,Bxe2,Qxe2,dxe5,d3,e6,Bg5,Be7,Be3,O-O,Nd2,Qc7,Nf3,b6,Rac1,Ng4,d4,Nxe3,Qxe3,exd4,cxd4,cxd4', 'Rxc7,dxe3,Rxe7', 'https://lichess.org/training/HzXmO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hZxt1', 'Blitz', 'Dudell', 2620, 'IM Tahaned2015', 2413, 'e4,e6,d4,d5,Nd2,Be7,Ngf3,Nf6,Bd3,c5,dxc5,dxe4,Nxe4,Nxe4,Bxe4,Qxd1+,Kxd1,Bxc5,Ke2,Nd7,Be3,Bxe3,Kxe3,Nf6,Rad1,Nxe4,Kxe4,Bd7,Ne5,Rd8,Rd4,f6,Nxd7,Rxd7,Rhd1,Rxd4+,Rxd4,Ke7,Ra4,a6,Rb4,b5,a4,Rc8,axb5,axb5,c3,Rc5,f4,Kd6,Rd4+,Kc6,Rd8,Rc4+,Ke3,b4,Rc8+,Kd5,Rxc4,Kxc4,cxb4,Kxb4,Kd4,Kb5,g4,Kb4,h4,Kb5,h5,Kb4,g5,h6,g6,Kb5,Kd3,Kb4,Kd4,Kb5,Kc3,Kc5,b4+,Kb5,Kb3,e5', 'fxe5,fxe5,Kc3,e4,Kd4', 'https://lichess.org/training/hZxt1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('hzXvr', 'Blitz', 'vicnik', 1747, 'Tecunze', 1848, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bg5,Bg7,Bc4,Nc6,Nxc6,bxc6,Qd2,O-O,O-O-O,Qa5,g4,Re8,f3,Be6,Bxe6,fxe6,h4,Rab8,Bh6,Bh8,h5,Qb4,b3,Nxe4,Nxe4', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/hzXvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('HzZJf', 'Blitz', 'mita45', 2051, 'Aikidochess', 2006, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,e5,Ne8,f4,d6,Nf3,dxe5,fxe5,Bg4,Be2,Nc6,Be3,f6,exf6,Nxf6,O-O,Kh8,h3,Bf5,Nh4,Bd7,Nf3,Bf5,d5,Nb8,Nd4,Bd7,Bf3,Na6,a3,Nc5,Qc2,a5,b4,axb4,axb4,Rxa1,Rxa1,Na6,Qb3,Qe8,Re1,Qf7,Bf2,c5,dxc6,bxc6,Nxc6,Ng4,Bg3,Bxc6,Bxc6', 'Bd4+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/HzZJf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i0159', 'Blitz', 'Prefieroe4', 1975, 'Greynis19', 1957, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,d3,O-O,O-O,d6,Nbd2,Bg4,Re1,a6,Ba4,Ne7,Nf1,Ng6,Ng3,Nh4,Bg5,Bxf3,gxf3,Ng6,d4,Bb6,Nf5,h6,Be3,Nf4,Bxf4,exf4,Kh1,c5,Rg1,Nh5,Qf1,Kh7,Qh3,g6,Qg4,Qf6,Rae1,Bc7,Bc2,cxd4,cxd4,Rae8,Rg2,Rg8,Nh4,b5,Reg1,Bd8,e5,Qxh4,Qd7,Qe7,Qc6,dxe5,dxe5,Qxe5,Bxg6+,fxg6,Rxg6,Bg5,h4,Rxg6,Qc2,Bxh4', 'Qxg6+,Kh8,Qxh6#', 'https://lichess.org/training/i0159');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i030k', 'Rapid', 'AlixM', 2042, 'savotom', 1928, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,Nf6,Ne5,g6,Bc4,e6,Bg5,Be7,O-O,Nd5,Bxe7,Qxe7,Qf3,O-O,Ne4,f6,Nd3,Nd7,Rfe1,b5,Bxd5,cxd5,Nec5,Nxc5,Nxc5,Qd6,b4,a5,a3,e5,dxe5,fxe5,Qg3,axb4,axb4,Rxa1,Rxa1,Bf5,c3,d4,Rd1,Rd8', 'Nb7,Qc7,Nxd8', 'https://lichess.org/training/i030k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i03ik', 'Blitz', 'bluher2015', 1531, 'Pouffou', 1612, 'e4,g6,f4,Bg7,Nf3,d6,Bc4,Nf6,e5,dxe5,fxe5,Nfd7,O-O,Nxe5,Nxe5,Bxe5,Bxf7+,Kd7,Qg4+,Kd6,Qb4+,c5,Qa3,Nc6,c3,Rf8,d4,Bxd4+,cxd4,Nxd4,Rd1,Be6,Bxe6,Kxe6,Qxc5,Rc8,Qxd4', 'Qxd4+,Rxd4,Rxc1+,Rd1,Rxd1#', 'https://lichess.org/training/i03ik');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I07IT', 'Blitz', 'castrigocor', 1843, 'TheMaxitaxi', 1860, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,Be3,Be6,f3,O-O,Qd2,d5,exd5,Nxd5,Nxd5,Qxd5,O-O-O,Qxd2+,Nxd2,Nc6,Bc4,Bxc4,Nxc4,b5,Nb6,Rad8,Nd5,Bd6,Bb6,Rd7,c3,a5,Rd3,e4,fxe4,Ne5,Rdd1,a4,Kc2,f5,exf5,Rxf5,Ne3,Rf2+,Rd2', 'Rxd2+,Kxd2,Bc5+,Ke2,Bxb6', 'https://lichess.org/training/I07IT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I09Zz', 'Rapid', 'onaznam', 1648, 'MaverickNaguiat', 1628, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,b3,cxd4,cxd4,Nge7,Nc3,Nf5,Bb5,Bb4,Bxc6+,Qxc6,O-O,Bxc3,Rb1,O-O,Ba3,Re8,Rc1,Qa6,Rxc3,Qxa3,Rc2,b6,g4,Nh6,Ng5,Qe7,Nh3,Qh4,Qf3,Rf8,Rc7,Ba6,Rfc1,f5,g5,Ng4,Kh1,Be2,Qxe2,Qxh3,f3,f4,fxg4,f3,Qf2,Qxg4,Rg1,Qe4,Re1,Qxe1+', 'Qxe1,f2,Qf1', 'https://lichess.org/training/I09Zz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i0bOB', 'Blitz', 'SashaLemish', 2172, 'FM ZappBrannigan86', 2499, 'e4,c5,c3,g6,d4,Bg7,Nf3,d5,exd5,Qxd5,dxc5,Qxd1+,Kxd1,Nf6,Be3,O-O,Bc4,Ng4,Bd4,e5,Be3,Nd7,Ke2,Nxe3,Kxe3,Nxc5,Nbd2,Bf5,Nb3,Nxb3,Bxb3,Rad8,Rae1,Bd3,Rd1', 'Bh6+,Ng5,Bxg5+', 'https://lichess.org/training/i0bOB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i0dk5', 'Rapid', 'Kate_TX20', 1604, 'The_Knight_King_W', 1665, 'e4,e6,e5,Nc6,d4,Bb4+,c3,Be7,Nf3,d6,Bb5,Bd7,exd6,cxd6,O-O,Nf6,Nh4,Ne4,Qg4,O-O,Qxe4,Bxh4,g3,Bg5,h4,Bxc1,Rxc1,d5,Qf4,Ne7,Bd3,Ng6,Qg4,f5,Qh5,Be8,Nd2,Nxh4', 'Qxh4,Qxh4,gxh4', 'https://lichess.org/training/i0dk5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I0gE9', 'Classical', 'NohatCoder', 1700, 'mahmoudismail', 1745, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,d5,exd5,Bb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/I0gE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i0gHf', 'Rapid', 'sol2016', 1664, 'Hallenk', 1640, 'e4,c5,Bc4,Nc6,Nf3,g6,Ng5,e6,d3,Bg7,c3,Nge7,Qf3,Ne5,Qd1,Nxc4,dxc4,O-O,Qf3,d6,Qh3,h5,Qd3,d5,cxd5,exd5,exd5,Nxd5,O-O,Bf5,Qd1,Bh6,Nf3,Bxc1,Qxc1,Qf6,Qh6,Be4,Ng5,Qh8', 'Qxh8+,Kxh8,Nxe4', 'https://lichess.org/training/i0gHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i0j1C', 'Classical', 'gorazdoff', 1717, 'Voland777', 1601, 'e4,d5,e5,e6,d4,a6,Nf3,h6,Nc3,c5,Be3,c4,b3,b5,Ne2,Bb4+,c3,Bf8,b4,a5,a3,Qc7,Ng3,Ra6,Be2,Qa7,O-O,axb4,cxb4,Rxa3,Rxa3,Qxa3,Qa1,Bxb4,Qxa3,Bxa3,Ra1,b4,Bd2,c3,Bxc3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Ne1,bxc3,Rxa3,Ne7,Rb3,O-O,Rxc3,Bb5,Nc2,Bc4,Ne3,Ra8,h3,Ra2,Nxc4,dxc4,Rxc4,Rd2,f4,Nd5,f5,Ne3,Rc8+,Kh7,Rc3', 'Rxg2+,Kh1,Rxg3', 'https://lichess.org/training/i0j1C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I0jKA', 'Rapid', 'BenWilde', 1827, 'shooresh', 1869, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Qxe4+,Be2,Bg4,O-O,Qc6,Nc3,a6,h3,Bxf3,Bxf3,Qb6,Re1+,Be7,Nd5,Nxd5,Bxd5,Nd7,Qf3,Nf6,Bxb7,Rb8,Bc6+,Kf8,d5,Qc5,Qe2,Ng8,Qxa6,g6,Qa4,Bf6,Qe4,Kg7,Rb1,Ne7,c3,Nxc6,dxc6,Rbe8,Be3', 'Rxe4,Bxc5,Rxe1+,Rxe1,dxc5', 'https://lichess.org/training/I0jKA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i0l7l', 'Rapid', 'inovitskii', 1677, 'ipopkov', 1726, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,h6,h3,a6,Ba4,g5,c3,g4,hxg4,Bxg4,d4,b5,Bc2,Qf6,d5,Na7,Nbd2,h5,Qe1,Bh6,Nh2,Ne7,Bd1,Rg8,Ndf3,h4,Nxg4,Rxg4,Nxe5,Rg7,Bxh6,Qxh6,Ng4,Qg6,f3,Rh7,e5,h3,Rc1,hxg2,Kxg2,Kd7,Bc2,Nf5,Rh1,Rg8,Kf2,Kc8,Bxf5+,Qxf5,Rxh7,Rxg4,Rh8+,Kb7,e6,fxe6,dxe6', 'Qc5+,Qe3,Rg2+,Kxg2,Qxe3', 'https://lichess.org/training/i0l7l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i0lBv', 'Blitz', 'najuris', 1676, 'babus2018', 1657, 'd4,b6,c4,Bb7,Nc3,e6,Nf3,Bb4,Bg5,Nf6,e3,h6,Bh4,g5,Bg3,Ne4,Qc2,Bxc3+,bxc3,Nxg3,fxg3,d6,Bd3,Qf6,O-O,Qe7,e4,Nd7,e5,dxe5,dxe5,Qc5+,Qf2,Nxe5,Qxc5,Nxf3+,gxf3,bxc5,Rab1,Bc6,Rfe1,O-O,Re5,Bxf3,Rxc5,Rfd8,Bf1,c6,Bg2,Bxg2,Kxg2,Rd2+,Kh3,Rxa2,Re5,Rd8,Ree1,Rdd2,Rh1,a5,Rb8+,Kg7,Rb6,Rd6,Ra6,a4,Ra7,a3,c5,Rd5,Ra6,Rxc5,Ra7,Rxc3,Rf1,Rcc2,Raxf7+,Kg6', 'R1f6+,Kh5,g4#', 'https://lichess.org/training/i0lBv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I0lOf', 'Rapid', 'adamsky', 1737, 'hazemtaher', 1721, 'd4,d5,e3,e6,c4,c5,cxd5,Qxd5,Nc3,Qd8,Nf3,Nc6,d5,exd5,Qxd5,Be6,Qxd8+,Rxd8,Bb5,Bd7,O-O,Nf6,Rd1,Be7,e4,O-O,e5,Ng4,h3,Ngxe5,Re1,Nxf3+,gxf3,Bf6,Bf4,Nd4,Bxd7,Nxf3+,Kg2,Nxe1+,Rxe1,Rxd7,Ne4,Bd4,Rd1,Re7,Nd6,Re2,Bg3,f5,Kf3,Re7,Nc4,Rfe8,Nd6,Rf8,Nc4,f4,Bh4,Ref7,Nd6,Rd7,Ne4,h6,Nxc5,Rdf7,Rxd4,g5,Bxg5,hxg5,Ne6,Re8,Nxg5,Rc7,Rxf4,Rf8', 'Rxf8+,Kxf8,Ne6+,Kg8,Nxc7', 'https://lichess.org/training/I0lOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I0M9U', 'Blitz', 'Violinvirtuosen', 1900, 'Petercohu', 1591, 'g4,d5,Bg2,c6,c4,e6,cxd5,exd5,Qb3,Qc7,h3,Be6,d4,Bd6,Nf3,Ne7,Nc3,Ng6,e3,Nd7,Qc2,O-O,e4,Nf4,Bxf4,Bxf4,e5,b6,Ne2,g5,Nxf4,gxf4,Qd2,c5,Rc1,Rae8,Qxf4,Kh8,Ng5,f5,Nxe6,Rxe6,gxf5,Nxe5,dxe5', 'Rxe5+,Kd1,Re1+,Rxe1,Qxf4', 'https://lichess.org/training/I0M9U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I0msD', 'Rapid', 'Doktor_Eisenbart', 1938, 'GoodOldBell', 1914, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,e3,c6,Bd3,Nbd7,Nf3,Bd6,O-O,O-O,h3,Re8,Bd2,b6,a3,Bb7,b4,c5,bxc5,bxc5,dxc5,Nxc5,Bc2,Nce4,Nd4,Be5,Rb1,Bxd4,exd4,Ba6,Re1,Nxc3,Bxc3,Qc7,Bb4,Bc4,Bf5,Qf4,Bc2,Ne4,Bxe4,Rxe4,Qa4,a6,Qc6,Rae8', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/I0msD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i0PSN', 'Rapid', 'paololucca', 1877, 'MessimontanaII', 1783, 'd4,Nf6,c4,d5,Nc3,Bf5,Bf4,a6,e3,h6,Nf3,e6,Bd3,Bxd3,Qxd3,dxc4,Qxc4,Bd6,Bxd6,Qxd6,O-O,O-O,Rac1,Nc6,e4,e5,dxe5,Nxe5,Nxe5,Qxe5,Nd5,Qxe4', 'Nxf6+,gxf6,Qxe4', 'https://lichess.org/training/i0PSN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I0PUh', 'Blitz', 'danni50', 1858, 'CM MarklarMarklar', 2196, 'd4,Nf6,Nf3,c5,e3,cxd4,exd4,g6,Bc4,Bg7,c3,d5,Bb3,O-O,O-O,h6,h3,Ne4,Nbd2,Kh7,Nxe4,dxe4,Nd2,f5,Re1,e6,Nf1,Nc6,Ng3,Qe7,Qe2,e5,dxe5,Nxe5,Bf4,g5,Bxe5,Qxe5,Rad1,Be6,Bxe6,Qxe6,Rd2,Rae8,Red1,f4,Rd6,Qxa2,Nxe4,f3,Qd3,Kh8,gxf3,Qxb2,Rd7,Qb6,Rd6,Qc7,Ng3,Qxc3', 'Rxh6+,Bxh6,Qxc3+', 'https://lichess.org/training/I0PUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i0qGl', 'Rapid', 'mironov55', 1835, 'DidIfoolyou', 1734, 'd4,Nf6,Bg5,Ne4,Bh4,g5,f3,gxh4,fxe4,Bh6,Nf3,e6,Qd3,c5,e3,Nc6,c3,Qb6,b3,O-O,Nxh4,d5,e5,f6,exf6,Rxf6,Be2,cxd4,exd4,e5,Nd2,exd4,c4,Nb4,Qg3+,Kh8,O-O-O,d3,Bxd3,Qd4,Bb1,Qb2+,Kxb2,Bg7,Ka3,Nxa2,Bxa2,Ra6+,Kb4,Rb6+,Kc5,Be6,cxd5', 'Rc8+,Qc7,Rxc7#', 'https://lichess.org/training/i0qGl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I0tJg', 'Rapid', 'Balasta', 2002, 'conradtrocio', 2058, 'e4,e6,d4,d5,exd5,exd5,h3,c5,Nf3,Nc6,Be2,Bd6,O-O,Nge7,Nc3,O-O,Bg5,f6,Be3,c4,Nh2,Bb4,Qd2,Bf5,a3,Bxc3,Qxc3,b5,b4,a5,Bg4,axb4,axb4,Qd6,Bd2,Bxg4,hxg4,Ng6,Nf3,Nf4,Rxa8', 'Ne2+,Kh1,Nxc3', 'https://lichess.org/training/I0tJg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i0vBw', 'Rapid', 'zvo-pala4', 1663, 'antonstrik', 1615, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,e6,c3,Nf6,O-O,Be7,h3,Bh5,Nbd2,O-O,Re1,Nbd7,a4,Rc8,Nh2,Bxe2,Qxe2,Nb6,Nhf3,Qe8,Qd1,Nc4,Nxc4,Rxc4,Ne5,Rc8,Qd3,Nd7,Nxd7,Qxd7,Re3,Rc4,Rg3,Rxa4,Rxa4,Qxa4,Bh6,Bf6,Bg5,Bxg5,Rxg5,Qa1+,Kh2,Qxb2,Qg3,g6,Rh5,a5,Rh4,a4,Qg5,Kg7', 'Qh6+,Kf6,Qxf8', 'https://lichess.org/training/i0vBw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I10Dv', 'Rapid', 'satverma123456', 2157, 'StudentPolytech', 2312, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qe7,Nc3,Nxd4,Bxd4,Bxd4,Qxd4,Nf6,e5,d6,f4,dxe5,fxe5,O-O,O-O-O,Ng4,Bc4,Qxe5,Qxe5,Nxe5,Bb3,Ng4,Rhf1,Be6,Bxe6,fxe6,h3,Rxf1,Rxf1,Ne3,Rf2,Nd5,Ne4,b6,c4,Ne7,Ng5,e5,Re2,Ng6,g3,Rf8,Ne6,Rf1+,Kc2,c5,Rd2,Kf7,Ng5+,Kf6,Nxh7+,Kf5,Rd7,e4', 'Rf7+,Ke5,Rxf1', 'https://lichess.org/training/I10Dv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i13Jt', 'Rapid', 'Yunem', 1678, 'LuisUrzua', 1674, 'g3,d5,Bg2,c6,d4,e6,Nd2,Nf6,c4,dxc4,Nxc4,Nd5,e4,Bb4+,Bd2,Bxd2+,Qxd2,Nf6,Qg5,O-O,e5,Nd5,Nf3,h6,Qxd8,Rxd8,O-O,b6,Nd6,Ba6,Rfd1,Nd7,a3,f6,Rac1,fxe5,Rxc6,e4,Nxe4,Nf8,Bh3', 'Be2,Rdc1,Bxf3', 'https://lichess.org/training/i13Jt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I13kB', 'Classical', 'Gonzalo87', 1732, 'Master_Pawn', 1648, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Nxc6,bxc6,e5,Nd5,Nxd5,cxd5,Qxd5,Rb8,Bd3,Bb7,Qd4,e6,O-O,g6,b3,Bg7,Bb2,O-O,Be4,d5,Bf3,Bc6,Ba3,Re8,Bd6,Rb7,c4', 'Qxd6,exd6,Bxd4', 'https://lichess.org/training/I13kB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I18Vt', 'Rapid', 'DiamanteFiuza', 1986, 'magochess10', 2062, 'e4,c5,Nf3,e6,c4,Nc6,Nc3,Nf6,Be2,d5,exd5,exd5,d4,cxd4,Nxd4,Bb4,Nxc6,bxc6,O-O,d4,Qa4,Bxc3,bxc3,d3,Ba3,dxe2,Rfe1,Be6', 'Qxc6+,Nd7,Rxe2', 'https://lichess.org/training/I18Vt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I1aNj', 'Blitz', 'Ilnarik', 2144, 'IM Baron_von_Koenig', 2322, 'c4,b6,Nc3,Bb7,Nf3,e6,g3,Bxf3,exf3,c5,Bg2,Nc6,O-O,g6,f4,Nge7,Ne4,Bg7,Nd6+,Kf8,d3,Qb8,Ne4,d5,Nd2,Qd6,Qc2,Rd8,a3,Nd4,Qa4,Qc7,Nf3,Nxf3+,Bxf3,Nf5,Rb1,h5,h4,Bf6,b4,Kg7,Bb2,Bxb2,Rxb2,cxb4,Qxb4,dxc4,dxc4,Rd4,Rc2,Rc8,Qb2,Kh7,Rfc1,Nxh4,gxh4,Rxf4,c5,b5,Bg2,Rxh4,Qxb5,Qh2+,Kf1,Rg4,f3', 'Rxg2,Rxg2,Qh1+,Kf2,Qxc1', 'https://lichess.org/training/I1aNj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I1GUs', 'Classical', 'BLITZ_GRIEK', 1811, 'Petropov', 1891, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,Bg4,Be2,Nf6,Bf4,e6,h3,Bxf3,Bxf3,Bd6,Qd2,Bxf4,Qxf4,Nbd7,O-O,O-O,h4,Nd5,Nxd5,exd5,a4,Nf6,Rfe1,Re8,Re5,Rxe5,dxe5,Qc7,Qf5,Ne4,Bxe4,dxe4,Qxe4,Re8,Rd1,g6,Rd6', 'Qxd6,exd6,Rxe4', 'https://lichess.org/training/I1GUs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I1H4v', 'Rapid', 'tyrannosaur1', 1627, 'Jabbert', 1699, 'e4,d5,exd5,Qxd5,Nc3,Qa5,a3,c6,h3,e5,Bc4,Nf6,d3,b5,b4', 'Bxb4,axb4,Qxa1,Nxb5,cxb5', 'https://lichess.org/training/I1H4v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I1It0', 'Blitz', 'Saeed_tz', 1970, 'MohammadRezaaAjalli5', 1988, 'b4,c6,Bb2,d5,a3,Bf5,e3,e6,d4,Bg6,Nf3,Bd6,c4,Nf6,Bd3,O-O,Bxg6,fxg6,Nbd2,Nbd7,Qc2,a5,Qb3,axb4,axb4,Qe7,O-O,Rxa1,Rxa1,Bxb4,c5,Bxd2,Nxd2,e5,Qxb7,exd4,Bxd4,Ne4,Nxe4,dxe4,Ra7,Qf7,f4,exf3,Qxd7', 'f2+,Kf1,Qc4#', 'https://lichess.org/training/I1It0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i1JD7', 'Rapid', 'Ahmed-Gabr', 1914, 'Auad', 1964, 'd4,Nf6,Nf3,e6,b3,c5,e3,d5,Bb2,cxd4,exd4,Nc6,Nbd2,Bd6,Bd3,O-O,O-O,Re8,a3,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Rxe5,Nf3,Bg4,h3,Bxf3,Qxf3,Qd6,a4,Rae8,Qg3,Qb4,Rab1,a6,c3,Qxc3', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/i1JD7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i1lS9', 'Rapid', 'Chess_legend_rus', 2310, 'fatsmith', 1745, 'e4,c5,b3,e6,Nf3,d5,exd5,exd5,Bb5+,Nc6,Qe2+,Be6,O-O,Bd6,Bb2,d4,c3,Nf6,cxd4,cxd4,Nxd4,O-O,Nxe6,fxe6,Qxe6+,Kh8,Na3,Qc7,Qh3,Ne5,Nc4,Ng6,Nxd6,Qxd6,Bc3,a6,Bc4,b5,Qd3,Qf4,Be6,Qg5,Qg3,Qh6,Rae1,Rae8,Bxf6,Rxf6,Bd7', 'Rxe1,Rxe1,Qxd2,Qe3,Qxd7', 'https://lichess.org/training/i1lS9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I1lvt', 'Blitz', 't_tamas', 2365, 'mathaios_orfan', 2192, 'e4,g6,d4,Bg7,f3,d5,e5,f6,exf6,Nxf6,Bd3,O-O,Ne2,Nc6,O-O,e5,c3,exd4,cxd4,Nh5,Nbc3,Nxd4,Nxd4,Bxd4+,Kh1,Qh4,Qe1,Qxe1,Rxe1,Bf5,Bxf5,gxf5,Nxd5,Rad8,Nxc7,f4,Ne6,Rd6,Nxf8', 'Ng3+,hxg3,Rh6#', 'https://lichess.org/training/I1lvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I1nrb', 'Rapid', 'Marnoelo', 1843, 'HoudinicisMedicis', 2009, 'c4,e6,g3,Nf6,Bg2,d5,Nf3,Bd7,O-O,dxc4,Ne5,Bc6,Bxc6+,Nxc6,Nxc6,bxc6,Qa4,Qd5,Nc3,Qc5,d4,cxd3,Be3,Qd6,Rad1,dxe2,Nxe2,Nd5,Nf4,Be7,Nxd5,exd5,Bf4,Qd7,Rc1,c5,Qa6,O-O,Be3,d4,Rfd1,Bd6,Bd2,Qf5,Re1,Rfb8,Qc6,Qd3,Ba5,Qb5', 'Re8+,Rxe8,Qxb5', 'https://lichess.org/training/I1nrb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i1nvv', 'Blitz', 'Galesil', 2195, 'Hegekoetter', 2268, 'Nf3,c5,g3,Nc6,Bg2,g6,d3,Bg7,c3,e5,a4,Nge7,O-O,O-O,h4,h6,Nbd2,d5,e4,b6,Re1,Ba6,exd5,Nxd5,Nc4,Re8,h5,g5,Bh3,Qc7,Nfd2,Rad8,Qf3,Nde7,Ne4,Na5,Nxa5,bxa5,Nf6+,Bxf6,Qxf6,Rd6,Qxe5,Bb7,Bg2,Bxg2,Kxg2,Qd7,Qxc5,Rxd3,Be3,Nf5,Bd4,Nxd4,cxd4,Rc8,Qxa5,Qb7+,Kg1,Qf3,Qb4,Rc2,Re8+,Kh7,Rf1,Qxh5,Qf8', 'Rxg3+,fxg3,Qh2#', 'https://lichess.org/training/i1nvv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i1S00', 'Classical', 'barokespinoza', 1928, 'GeorgeWBush', 2054, 'Nf3,f5,d4,Nf6,d5,g6,Nc3,Bg7,e3,O-O,Bc4,d6,O-O,Kh8,Ng5,h6,Ne6,Bxe6,dxe6,c6,f3,d5,Bb3,Qc8,e4,fxe4,fxe4,dxe4,Qe2,Na6,Nxe4,Nxe4,Qxe4,Rxf1+,Kxf1,Qf8+,Kg1,Qf6,Be3,Rf8,c3,Qe5,Qxe5,Bxe5,Bxa7,Bd6,Bd4+,Kh7,Rf1', 'Bxh2+,Kxh2,Rxf1', 'https://lichess.org/training/i1S00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i1SJ1', 'Blitz', 'Theodoros_60', 1543, 'schefferjunior', 1561, 'c4,Nf6,Nc3,g6,e4,Bg7,e5,Nh5,d4,O-O,Be2,d6,Bxh5,gxh5,Qxh5,dxe5,dxe5,e6,Nf3,Nc6,Bg5,f6,exf6,Bxf6,Bxf6,Qxf6,O-O,e5,Rae1,Nd4,Nxe5,Bf5,Nf3,Bd3,Nxd4,Qxd4,Re7,Qf6,Rfe1', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/i1SJ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I1TGi', 'Rapid', 'NriqOro', 1605, 'BorisSBritva', 1653, 'e4,e5,Nf3,Nf6,Nc3,d6,d3,Bg4,Be2,Nc6,O-O,Bxf3,Bxf3,Be7,Bg5,h6,Bxf6,Bxf6,Nd5,Nd4,c3,Nxf3+,Qxf3,Bg5,d4,c6,Nb4,exd4,cxd4,Qb6,Qc3,O-O,e5,c5,Nd5,Qc6,Qf3,cxd4,Rac1,Bxc1', 'Ne7+,Kh8,Nxc6', 'https://lichess.org/training/I1TGi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I1TGn', 'Rapid', 'lockdown_2021', 1758, 'BcVcB', 1841, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,e3,b6,Nf3,Bb7,Be2,d5,cxd5,Nxd5,Nxd5,Bxd2+,Qxd2,Qxd5,O-O,Nd7,b3,c5,Bc4,Qh5,Be2,cxd4,Nxd4,Qd5', 'Bf3,Qd6,Bxb7', 'https://lichess.org/training/I1TGn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i1TWC', 'Blitz', 'noelbowie', 1830, 'stefcho_stanev', 1839, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Nc6,Bc4,d6,Bxf7+,Kxf7,Nf3,Nf6,O-O,Be7,Ng5+,Kg6,f4,h6', 'f5+,Bxf5,exf5#', 'https://lichess.org/training/i1TWC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i1V6H', 'Rapid', 'Anderpal', 1666, 'Tlaib2020', 1675, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,Bb3,Nd4,Nxd4,exd4,Bg5,Be7,h3,dxe4,Na3,Be6,Bxe6,fxe6,Nc4,Qd5,h4,h6,Bf4,e5,Bxe5,Bb4+,c3,dxc3,Qa4+,c6,Qxb4,cxb2,Qxb2,exd3,Qxb7,O-O,Qb3,d2+,Kd1,Ne4,Rf1,Nxf2+,Rxf2,Rxf2,Nxd2,Rxd2+,Ke1,Kh7,Qb1+,g6', 'Qb7+,Qd7,Qxa8', 'https://lichess.org/training/i1V6H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i1xHF', 'Bullet', 'FM pergell', 2093, 'dragon_storm', 1994, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ngf3,cxd4,cxd4,f6,Ng5,fxg5,Qh5+,Ke7,Nf3,Nf6,exf6+,gxf6,Nxg5,fxg5', 'Bxg5+,Kd7,Bxd8', 'https://lichess.org/training/i1xHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I1xrC', 'Rapid', 'Spenolen', 1736, 'behroz802', 1876, 'd4,d5,c4,e5,dxe5,d4,a3,a5,Nf3,Nc6,g3,Nge7,Bg2,Ng6,O-O,Ngxe5,Nxe5,Nxe5,e3,Bc5,exd4,Bxd4,Bd5,c5,Re1,O-O,Bf4,Ng4,Re2,Re8,Nc3,Rxe2,Qxe2,Bxf2+,Kh1,Bd4,Re1,Be6', 'Bxe6,Nf2+,Kg2', 'https://lichess.org/training/I1xrC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i1YZu', 'Blitz', 'FM mrios', 2516, 'ChessPhilip', 2089, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,Bd7,O-O-O,Rc8,Bb3,Nxd4,Bxd4,b5,Nd5,Nxd5,exd5,a5,Bxg7,Kxg7,a3,Qb6,Qd4+,Qxd4,Rxd4,a4,Ba2,Rc5,c3,f6,Re1,Kf7,Kd2,h5,h3,g5,Rde4,Re8,R4e2,h4,Ke3,Bc8,Kd4,Bf5,Rf2,e5+,dxe6+,Bxe6,Bxe6+,Rxe6,Rxe6,Kxe6,Re2+,Re5,Rc2,Rd5+,Ke4,Re5+,Kd3,Rd5+,Ke3,Re5+,Kf2,Kd5,Rd2+,Kc5,f4,Rd5,Re2,Kc4,fxg5,fxg5,Re4+,Kd3,Rb4,Rf5+,Kg1,Ke2,c4,bxc4,Rxc4,Rb5,Rb4,Rxb4,axb4,d5,b5,d4,b6,d3,b7,d2,b8=Q,d1=Q+,Kh2,Qb3,Qe5+', 'Qe3,Qxe3+,Kxe3', 'https://lichess.org/training/i1YZu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i22bq', 'Rapid', 'miwa', 1633, 'Gtnh', 1852, 'e3,c5,Be2,e6,c3,Nf6,a3,Nc6,d3,a6,Bd2,Be7,h4,d5,g4,d4,g5,Nd7,e4,e5,f4,exf4,Bxf4,Nde5,c4,Qa5+,Bd2,Qc7,Bf4,Nxd3+,Qxd3,Qxf4,Nd2,Ne5,Qb3,Ng4,Bxg4,Qxg4,Ngf3,Qg3+,Kd1,Bg4,Kc2,d3+,Qxd3,Rd8,Qc3,Qf4,Raf1,Bh5,Qxg7,Rf8,Qc3,b5,Ne5,b4,axb4,cxb4,Rxf4,bxc3,Kxc3,Bd6,Ndf3', 'Bxf3,Rxf3,Bxe5+', 'https://lichess.org/training/i22bq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I24JR', 'Rapid', 'ENL', 1557, 'krxmgx', 1559, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,d3,Nf6,h3,h6,Be3,Bb6,Bxb6,axb6,O-O,Be6,Bxe6,fxe6,a3,O-O,b4,Nd4,Nxd4,exd4,Ne2,e5,c3,dxc3,Nxc3,c6,Qb3+,Kh7,a4,g5,b5,Nh5,bxc6,bxc6,Ne2,Nf4,Nxf4,gxf4,Qc4,Rg8,f3,Qd7,Qb3,Qxh3,Rf2,Rg5', 'Qf7+,Kh8,Qf6+,Kg8,Qxg5+,hxg5,gxh3', 'https://lichess.org/training/I24JR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i2690', 'Rapid', 'raargh', 1617, 'avacasc', 1708, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Nc6,Qd5,Bb4+,Nc3,Qe7,e3,Bxc3+,bxc3,Ngxe5,Nf3,Nxf3+,Qxf3,d6,Bd3,Be6,O-O,h5,Be4,Bd7,Bd5,g5,Bxg5,Qxg5,Bxf7+,Kd8,Rad1,Rf8,Rd5,Qg7,Qxh5,Qxf7,Qg5+,Kc8,h4,Ne7,Rd4,Rg8,Rf4,Qg7', 'Qxg7,Rxg7,Rf8+,Be8,Rxe8+,Kd7,Rxa8', 'https://lichess.org/training/i2690');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i26Q6', 'Blitz', 'Aafm', 2187, 'PouyaSky', 2406, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d5,c4,c6,cxd5,cxd5,Nc3,Nc6,Ne5,Bf5,Nxc6,bxc6,Bf4,Qb6,Na4,Qa5,Rc1,Nh5,Be3,Rfc8,b3,e5,dxe5,Bxe5,Bd4,f6,Bxe5,fxe5,e4,dxe4,g4,Nf4,gxf5,gxf5,Kh1,Rd8,Qc2,Rd6,Rg1,Kh8,Nc5,Rg6,Nxe4,fxe4,Bxe4,Rh6,Bxc6,Qd8,Qe4', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/i26Q6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i26U2', 'Rapid', 'kishoreachess', 1678, 'Rolfomania', 1733, 'e4,c6,d4,d5,e5,Bf5,c3,e6,Bd3,c5,Bxf5,exf5,Nf3,Qb6,Nbd2,cxd4,Nxd4,Nc6,Nxf5,Nxe5,Qe2,Bd6,Nxg7+,Kd7,Nf5,Re8,Nxd6', 'Nd3+,Kf1,Rxe2', 'https://lichess.org/training/i26U2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i2Ahp', 'Rapid', 'deepanshah', 1784, 'Uxzoi', 1929, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Bb5,Qb6,Nc3,cxd4,Nxd4,Bc5,Bxc6+,bxc6,Nce2,Ne7,O-O,Ba6,Bg5,Bxd4,Bxe7,Kxe7,Nxd4,Bxf1,Kxf1,c5,Nf3,Qxb2,Rb1,Qxa2,Rb7+,Kf8,Ng5,h6,Nxe6+,Kg8,Nxc5,Qc4+,Nd3,Qc6,Re7,Rc8,Qf3,f6,exf6,Qxf6,Qxd5+,Kh7,Qe4+,Qg6,Qa4,Rhe8,Rxa7', 'Qxd3+,cxd3,Rc1+,Qd1,Rxd1#', 'https://lichess.org/training/i2Ahp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i2Ey0', 'Blitz', 'shasad', 1758, 'Rishon', 1773, 'b3,e5,Bb2,d6,a3,Nc6,g3,f5,Bg2,Nf6,h3,Be7,d3,Bd7,Nd2,O-O,e3,Rb8,g4,fxg4,hxg4,Bxg4,Bf3,Bf5,Qe2,Bg6,Nh3,d5,Ng5,Qd7,Bg4,Nxg4,Ndf3,e4,dxe4,dxe4,Rd1,Qf5,Nh4,Qxf2+,Qxf2,Nxf2,Nxg6,hxg6,Rg1,Bxg5,Rb1,Bxe3,Rxg6,Kh7,Rg2,Rf7,Ke2,Bb6,c4,Nd4+,Kd2,Nxb3+,Kc2,Na5,Rbg1,Rg8', 'Rh2+,Nh3,Rxh3#', 'https://lichess.org/training/i2Ey0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i2hvl', 'Rapid', 'Alinur09', 1911, 'yuyuksuh', 1892, 'e4,d5,Nf3,dxe4,Ng5,Qd5,d3,exd3,Bxd3,Nc6,O-O,h6,Nc3,Qd8,Nxf7,Kxf7,Qh5+,Kf6,Ne4+,Ke6,Nc5+,Kd6,Bf4+,e5,Qg6+,Nf6,Ne4+,Ke7,Nxf6,gxf6,Bc4,Qe8,Qe4,Be6,Bxe6,Kxe6,Rad1,Bd6,Qd5+,Ke7,Rfe1,Qf7,Qe4,Rad8,Bd2,f5,Qh4+,Qf6,Qa4,f4,Bxf4,Rdf8,Bg3,h5', 'Bh4,Kd7,Bxf6', 'https://lichess.org/training/i2hvl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i2NpU', 'Rapid', 'saidalot', 1930, 'Maaaziar', 1946, 'e4,Nc6,Nf3,e5,Bc4,g6,d4,exd4,Nxd4,Bg7,Be3,Nge7,O-O,O-O,Re1,Re8,Nc3,Ne5,Bb3,c5,Nde2,c4,Ba4,a6,Nd5,b5', 'Bb6,Nxd5,Bxd8', 'https://lichess.org/training/i2NpU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i2O9y', 'Blitz', 'HADIEZZATI', 2177, 'botek', 2198, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Nbd7,e3,Be7,Rc1,O-O,Bd3,dxc4,Bxc4,Nd5,Bxe7,Qxe7,O-O,b6,Bd3,Bb7,Bb1,Nxc3,Rxc3,e5,dxe5,Nxe5,Nd4,c5,Nf5,Qf6,Qh5,Ng6,Rc4,Rad8,Rh4,Nxh4', 'Ne7+,Kh8,Qxh7#', 'https://lichess.org/training/i2O9y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I2OKr', 'Rapid', 'recepgurbuz', 2113, 'IngeMecch', 2039, 'e4,e5,f4,exf4,Nf3,h6,h4,Be7,d4,d6,Bxf4,f5,e5,dxe5,Bxe5,Bf6,Bc4,Qe7,Qe2,Bxe5,Nxe5,Be6,Bxe6,Qxe6,Qh5+,g6,Qxg6+,Qxg6,Nxg6,Rh7,Nc3,Ne7,Nxe7,Rxe7+,Kd2,Nc6,Rae1,Nxd4,Rxe7+,Kxe7,Re1+,Kf6,Nd5+,Kg6,Nxc7,Rc8,c3,Rxc7,cxd4,Kh5,g3,Kg4,Re3,Rc6,b4,Rg6,Ke2,Kh3,Kf2,Ra6,a3,Rd6,Rd3,Kg4,Ke2,f4,gxf4,Kxf4,Rd1,Ke4,d5,Rxd5,Rxd5,Kxd5,Kf3,Kc4', 'Kg4,Kb3,Kh5,Kxa3,Kxh6', 'https://lichess.org/training/I2OKr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i2Ope', 'Rapid', 'sairamtvv', 1686, 'rodrigofirmino', 1744, 'e4,d6,Nc3,Nf6,d3,e6,Nf3,Be7,Be2,O-O,h3,e5,O-O,a6,a3,b5,Be3,Bb7,d4,Nbd7,d5,c6,dxc6,Bxc6,Bd3,Nc5,Qe2,Ncxe4,Rad1,Nxc3,bxc3,e4,Nd4,exd3,Rxd3,Be4,Rd2,Bb7,Nf5,Nd5,c4,Nxe3,Qxe3,Bg5,f4,Bf6,Rxd6,Qc7,Rxf6,gxf6', 'Qg3+,Kh8,Qg7#', 'https://lichess.org/training/i2Ope');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i2s01', 'Classical', 'Michalisham', 1933, 'rmesparmar', 1950, 'f4,e6,e4,Be7,Nf3,Bh4+,g3,Be7,Nc3,Nc6,d4,b6,d5,exd5,exd5,Na5,Bd2,Nf6,Bg2,Rb8,Qe2,O-O,O-O-O,Re8,Nb5,Bb4,Qd3,Bxd2+,Rxd2,Ba6,Ne5,d6,Nc6,Nxc6,dxc6,Re7,h3,Qf8,g4,Rbe8,Qb3,Re3,Rd3,Bxb5', 'Rxe3,Rxe3,Qxe3', 'https://lichess.org/training/i2s01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i2up3', 'Rapid', 'sinarasht', 1627, 'bekisar', 1814, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Be3,Qb6,b3,cxd4,Nxd4,Nxe5,Be2,Bc5,Nc3,Nf6,O-O,O-O,Na4,Qc7,Nxc5,Qxc5,Nxe6,Qc3,Nxf8,Kxf8,Bd4,Qc7,Bxe5,Qxe5,Re1,Qg5,Bf3,Bh3,Qd4,b6,Re5,Qg6,Rae1,Rd8,Qb4+,Kg8,Qe7,Rf8,Bxd5,Nxd5', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/i2up3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I2Uv3', 'Classical', 'kalif7722', 1693, 'vanimuff', 1709, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,c3,d6,d4,exd4,cxd4,Bb6,Nc3,Bg4,Qd3,Qf6,d5,Nd4,Nxd4,Bxd4,O-O,Be5,Nb5,Kd7,Rb1,Ne7,Bb3,a6,Nc3,h5,a4,h4,a5,Ng6,Ba4+,Kc8,h3,Nf4,Qe3,Nxh3+,gxh3,Bf3,Qg5,Rh6,Qxf6,Rxf6,Bd1', 'Rg6+,Bg5,Rxg5#', 'https://lichess.org/training/I2Uv3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I2YJK', 'Blitz', 'basyaar', 1684, 'anthonyhug', 1804, 'e4,d5,exd5,c6,dxc6,Nxc6,Bb5,Qb6,Nc3,a6,Be2,e6,Na4,Qd8,Nf3,Bd6,c4,Bb8,O-O,Qc7,b3,Nge7,Bb2,b5,Nc5,Ng6,Qc2,Nce7,Ne4,Bb7,Qc3,Nh4,Qxg7,Rg8,Nf6+,Kd8,Nxg8', 'Nxf3+,Kh1,Qxh2#', 'https://lichess.org/training/I2YJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I2Zb3', 'Rapid', 'wccrws02', 1652, 'EmileChesky', 1865, 'e4,e5,Nf3,d6,Bc4,Be7,Nc3,Bg4,h3,Bxf3,Qxf3,Nf6,d3,h6,Bd2,a6,O-O-O,b5,Bb3,Nc6,g4,Nd4,Qe3,Nxb3+,cxb3,Nd7,f4,f6,fxe5,dxe5,Nd5,c6,Nb4,Qc8,Kb1,a5,Nc2,a4,bxa4,Rxa4,d4,O-O,h4,exd4,Nxd4,Bc5,Bc3,Qa8,Be1,Rxa2', 'Qb3+,Rf7,Qxa2,Qxa2+,Kxa2', 'https://lichess.org/training/I2Zb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i2ZcR', 'Rapid', 'chainhaso', 1833, 'mdmaylan', 1838, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,Nf3,Bg4,c3,e6,Bf4,Nf6,O-O,Be7,Nbd2,O-O,Qc2,h6,Rfe1,Rc8,Be5,Nb4,Qb1,Nxd3,Qxd3,Bxf3,Nxf3,Ne4,Nd2,Nxd2,Qxd2,Bg5,f4,Bh4,g3,f6,gxh4,fxe5,Rxe5,Qxh4,Rxe6', 'Qg4+,Kh1,Qxe6', 'https://lichess.org/training/i2ZcR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I2zOR', 'Rapid', 'Filch', 1686, 'mikheil1992', 1651, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Ne7,d3,c6,Bxd5+,Nxd5,Ne4,h6,O-O,Be7,Re1,Rf8,Qh5,Nf4,Bxf4,exf4,Nc5+,Kd6', 'Qe5#', 'https://lichess.org/training/I2zOR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I30Aa', 'Classical', 'Ecko_AfterLife', 1633, 'alevit', 1656, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d6,c3,Bg4,d4,Be7,h3,Bh5,Nbd2,Bg5,Re1,Bxd2,Bxd2,Qf6,Bg5,Bxf3', 'Bxf6,Bxd1,Bxg7', 'https://lichess.org/training/I30Aa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I365o', 'Rapid', 'Kapilyadav', 1736, 'Jossef45', 1621, 'e4,d6,d4,e6,c4,Bd7,Nc3,Be7,Nf3,Nc6,d5,Nb4,Qb3,a5,a3,Na6,Qxb7', 'Nc5,Qxa8,Qxa8', 'https://lichess.org/training/I365o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i383N', 'Rapid', 'Wolot', 1672, 'Guineano', 1637, 'e4,c5,Bc4,Nc6,Qf3,Ne5,Qe2,a6,Nf3,Nxc4,Qxc4,e6,d4,Qb6,O-O,h6,b3,Nf6,Nc3,d5,exd5,exd5,Nxd5,Nxd5,Qxd5,Be6,Re1,Be7,Qe5,Bf6,Qxc5', 'Qxc5,dxc5,Bxa1', 'https://lichess.org/training/i383N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i3aJe', 'Blitz', 'sp_cool', 1928, 'Stenhaug96', 1969, 'd4,Nf6,Bg5,Ne4,Bf4,c5,f3,Qa5+,c3,Nf6,d5,e6,d6,Nd5,Bg3,Qb6,e4,Qxb2,exd5,Qxa1,dxe6,dxe6,Bc4,Qb2,Ne2,Nc6,O-O,Qb6,Re1,Bd7,Nf4,O-O-O,Na3,Na5,Bxe6,fxe6,Nxe6,Bxe6,Rxe6,c4+,Kh1,Qb2,Qd5,Qxa3', 'd7+,Rxd7,Re8+,Rd8,Qxd8#', 'https://lichess.org/training/i3aJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i3Amy', 'Classical', 'sergei48', 1710, 'jashanpreetsingh', 1744, 'c4,e5,Nc3,Nf6,e4,Bb4,d3,d6,h3,Nc6,a3,Bc5,Nf3,O-O,Be2,Ne7,Na4,Bb6,Nxb6,axb6,O-O,Ng6,b4,c5,Bg5,h6,Be3,Be6,Nh2,Nh4,Bg4,Nh7,Bxe6,fxe6,Ng4,h5,Nh2,Qe8,g3,Ng6,Qxh5,Qf7,Ng4,Nf6,Nxf6+,Qxf6,Bg5,Qf7,Kg2', 'Nf4+,Bxf4,Qxh5', 'https://lichess.org/training/i3Amy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I3aOr', 'Classical', 'karimi27', 2036, 'Omidjavanbakht', 2000, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bg4,h3,Bh5,Be3,Bd6,Bd3,O-O,O-O,Re8,Bg5,h6,Bxf6,Qxf6,Nxd5,Qd8,Ne3,c5,dxc5,Bxc5,Re1,Qb6,Qd2,Bxf3,gxf3,Qxb2,Rab1,Qf6,Be4,Nc6,Rxb7,Rad8,Qe2,Ne5,Ng4,Nxf3+,Qxf3', 'Qxf3,Bxf3,Rxe1+', 'https://lichess.org/training/I3aOr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i3cVv', 'Rapid', 'StarSpiral', 1919, 'Jucacasti', 1830, 'd4,d5,Nf3,e6,c4,c6,a3,Bd6,Nc3,h6,e4,f6,e5,fxe5,Nxe5,Bxe5,Qh5+,Kd7,dxe5,Ne7,cxd5,exd5,Bf4,Qf8,g3,Qf5', 'Bh3,Kd8,Bxf5', 'https://lichess.org/training/i3cVv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I3dts', 'Rapid', 'executiveproducer', 2028, 'Sfide_Mentali', 1964, 'e4,e5,Nc3,Nc6,b3,Bc5,Bb2,d6,Bd3,Nge7,Qe2,Ng6,g3,Be6,O-O-O,Nd4,Qf1,c6,f4,Bg4,Re1,Bd7,f5,Nf8,h4,h5,Na4,b5,Nxc5,dxc5,Nf3,Qc7,Nxd4,cxd4,Qf3,a5,g4,a4,gxh5,axb3,axb3,Bc8,f6,Rg8,fxg7,Rxg7,h6,Rh7,Qh5,Be6,Rhf1,Ra5,Rf6,Qa7,Kb1,c5,Qxe5,c4,Bxd4,Qe7,Bc3,cxd3,Bxa5,dxc2+,Kxc2', 'Bxb3+,Kxb3,Qxe5', 'https://lichess.org/training/I3dts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I3ikt', 'Classical', 'mvb', 1902, 'kleoj', 1989, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qa5,d4,Bg4,Be2,O-O-O,Be3,Nf6,O-O,e5,d5,Nxd5,Nxd5,Rxd5,Qe1,Qxe1,Rfxe1,f6,h3,Bh5,Red1,Rxd1+,Bxd1,Bd6,Nh4,Bxd1,Rxd1,g6,Nf3,Nb4,c3,Nc6,Kf1,Re8,Nd2,Nd8,Ne4,Be7,a4,Ne6,b4,b6,a5,f5,axb6,axb6,Nd2,f4,Bxb6,cxb6,Nc4,f3,Nxb6+,Kb7,Nd5,fxg2+,Kxg2,Rd8,c4,Bxb4,Rb1,Nf4+,Nxf4,exf4,Rxb4+,Kc6,c5,Rf8,Rc4,g5,Kf3,h5,Re4,Rf5,Rc4,Rxc5,Rxc5+,Kxc5,Ke4,Kd6', 'Kf5,g4,hxg4', 'https://lichess.org/training/I3ikt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i3iU8', 'Blitz', 'denizemir', 1631, 'Tom_G96', 1551, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bb4,Nxc6,bxc6,Bd2,a5,a3,Bxc3,Bxc3,f6,Bd3,e5,O-O,Ne7,Bc4,Ba6,Qe2,Qb6,Rfd1,d5,exd5,cxd5,Bxa6,Rxa6,Qe3,d4,Bxd4,exd4,Qxd4,O-O,Qd7,Qe6,Qa4,Rd6,Re1,Qd7,Qxa5,Rd8,Qh5,Rd2,Rac1,Qd6,b4,Qb6,Rxe7', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/i3iU8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I3JHE', 'Blitz', 'happy-lion', 2401, 'NM SwamiChaturanga', 2445, 'd4,Nf6,Nf3,b6,g3,Bb7,Bg2,g6,O-O,Bg7,c4,O-O,d5,e6,Nc3,Qe7,e4,d6,Re1,Nbd7,Rb1,a5,Nd4,e5,Nc6,Bxc6,dxc6,Nb8,Nd5,Qd8,Bg5,Nxc6,b3,Nd4,a3,c6,Bxf6,Bxf6,Ne3,Bg7,Nc2,Ne6,Ne3,Qe7,Qd2,Rac8,Red1,Rfd8,b4,axb4,axb4,Qf8,Bh3,Re8,Bxe6,Rxe6,Qc2,Bh6,Ng4,Bg5,h4,Be7,Ne3,Qh6,b5,cxb5,Rxb5,Bd8,Qb3,Qf8,Nd5,f5,exf5,Qxf5,Nxb6,Rb8,Nd5,Rxb5,cxb5,Kg7,b6,Bxb6,Nxb6,Rf6,Qe3,h6,Nd5,Rf7,Nc3,Qf6,Ne4,Qf5,Nxd6,Qg4,Qd2,Rd7,Qc1,Kh7,Kg2,e4,Qd2,Qf3+,Kg1,g5,Qe3,Qf6,Qd4,Qe6,Qc5,e3,fxe3,Re7,Kf2,Rf7+,Nf5', 'Rxf5+,Qxf5+,Qxf5+', 'https://lichess.org/training/I3JHE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i3QN4', 'Blitz', 'Aboma_w', 1812, 'Oleg_Nagleckiy', 1805, 'c4,e5,Nc3,d6,e3,c6,d4,f6,dxe5,fxe5,Nf3,Bg4,Be2,Nd7,h3,Bxf3,Bxf3,Qe7,O-O,g5,b4,O-O-O,b5,c5,Nd5,Qg7,Bb2,h5,Bxh5,Ngf6,Nxf6,Nxf6,Bf3,Be7,a4,e4,Bg4+,Kb8,Be6,Qh6,a5,g4,Bxg4,Nxg4,Qxg4,Rhg8,Qf5,Rdf8,Qd7,Bf6,Qxd6+,Ka8,Bxf6,Rxf6,Qd7,Rfg6,g3,Rxg3+,fxg3,Qxe3+,Kh2', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/i3QN4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I3qxy', 'Rapid', 'mariomaster', 1941, 'Zoecir', 1694, 'e4,e6,Nc3,c6,Nf3,d6,Be2,a6,O-O,b5,a3,Bb7,d3,c5,Bf4,e5,Bg3,h6,h3,Be7,Nh2,Nf6,f4,Nbd7,Bf3,O-O,Ne2,Rc8,Ng4,Nxg4,Bxg4,f6,fxe5,Nxe5,Bxc8,Qxc8,Nf4,Kh7,Nh5,c4,Bxe5,dxe5,Ng3,Bc5+,Kh1,Rd8,Nf5,g6,Ng3,Qc6,Qe2,Rf8,Rad1,h5,Kh2,h4,Nh1,Kg7,dxc4,bxc4,Qxc4', 'Bg1+,Kxg1,Qxc4', 'https://lichess.org/training/I3qxy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i3T8g', 'Rapid', 'tommyxd', 1868, 'Lamadang', 1903, 'd4,e6,c4,d5,Nc3,Bb4,Qa4+,Nc6,Nf3,Bd7,Qb3,b6,Bd2,Qe7,cxd5,exd5,Nxd5,Bxd2+,Nxd2,Nxd4,Qd3,Qc5,Nxc7+,Qxc7,Qxd4,Nf6,e3,O-O,Be2,Rad8,Qc4,Bc6,Rc1,Rc8,O-O,Qd6,Qd3,Qe5,Rc2,Rfd8,Qc3,Qg5,Nf3', 'Bxf3,Bxf3,Rxc3', 'https://lichess.org/training/i3T8g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i3UOT', 'Rapid', 'bhargav987654321', 1890, 'Kostka', 1807, 'e4,d6,c3,Nc6,d4,e5,Nf3,Nf6,Bd3,Bg4,d5,Na5,Qa4+,c6,dxc6,Nxc6,Ng5,h6,Nxf7,Kxf7,Qb3+,Ke8,Qxb7,Bd7,O-O,Be7,f4,exf4,Bxf4,Rb8,Qa6,Rxb2,e5,Nd5,Bg6+,Kf8,Bxh6+,Kg8', 'Bf7+,Kf8,Bxd5+', 'https://lichess.org/training/i3UOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I3usU', 'Rapid', 'przemekb', 1790, 'amid-008', 1697, 'd4,c6,e4,d6,c4,Nf6,Nc3,g6,f4,Bg7,Nf3,Nbd7,Bd3,O-O,e5,dxe5,fxe5,Ne8,O-O,Nb6,Be3,f6,Qd2,fxe5,dxe5,Bf5,Bxf5,Rxf5,Qe2,Bxe5,Nxe5,Rxe5,Rad1,Qc7,Qf2,Rf5,Qh4,Rxf1+,Rxf1,Nf6,Bf4,Qd7,Be5,Rf8,Ne4,Nxe4,Rxf8+,Kxf8,Qxe4,Qd1+,Kf2,Qd2+,Kg3,Qg5+,Kh3,Nxc4,Bf4,Qh5+,Kg3,Nxb2,Qd4,Qe2,Qh8+,Kf7,Qxh7+,Ke6,Qxg6+,Kd5,Qf7+,Kc5,Qf5+,Kb6,h4,Nd3,Bg5,Qe1+,Kg4,Nf2+,Kh5,Qe2+,g4,e6', 'Bd8+,Ka6,Qa5#', 'https://lichess.org/training/I3usU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I3UXx', 'Rapid', 'varav', 1761, 'xadrez_maicom', 1658, 'a4,b6,b3,Bb7,Bb2,e6,e3,Nf6,Ne2,d5,Ng3,Bd6,Be2,O-O,O-O,Nbd7,Na3,a6,c4,Nc5,cxd5,Bxd5,Nc4,Bxg3,fxg3,Nce4,d3,Ng5,Bxf6,gxf6,e4,Bb7,Qc2,Kg7,Ne3,h6,Ng4,Nh7,Qc3,e5,Qc1,Rh8,Qxh6+,Kg8,Qe3,Kf8,Qd2,Bc8,Ne3,Ng5,Nf5,Bxf5,Rxf5,Ke7,Raf1,Qd4+,Kh1', 'Rxh2+,Kxh2,Rh8+,Bh5,Rxh5#', 'https://lichess.org/training/I3UXx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I3wKh', 'Classical', 'avive', 1792, 'sniperheat', 1807, 'd4,d5,c4,Nf6,Nc3,Bf5,Bg5,dxc4,e3,h6,Bh4,g5,Bg3,Ne4,Nxe4,Bxe4,f3,Bc6,Bxc4,e6,Ne2,g4,O-O,gxf3,gxf3,Bd6,e4,Qg5,Kh1,Nd7,Rg1,Qh5,Nf4,Bxf4,Bxf4,Nb6,Be2,O-O-O,Be5,Rhg8,Qd3,Nd7,f4,Nxe5,fxe5,Qh4,Bf3,Qh3,Rad1,b6,d5,exd5,exd5,Bb7', 'Bg4+,Qxg4,Rxg4,Rxg4,Qf5+,Kb8,Qxg4', 'https://lichess.org/training/I3wKh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i47rO', 'Rapid', 'Ayushkashyap9x', 1523, 'dkm320', 1565, 'e4,c6,e5,d5,d4,Bf5,Qf3,e6,h4,Nd7,Qe3,c5,f3,cxd4,Qxd4,Bc5,Qd2,Qb6,g4,Bb4,Nc3,Bg6,h5,Bxc2,Qxc2,Nxe5,a3,Bd6,Qe2,Ne7,Bf4,Nc4,Bxd6,Nxd6,b4,a5,b5,a4,Nh3,h6,Nf4,d4,Ne4,Nxe4,Qxe4,Rd8,Nd3,Qxb5,Ne5,Qa5+,Kf2,Qd2+,Be2,O-O,Rhd1,Qe3+,Qxe3,dxe3+,Kxe3,Rxd1,Rxd1,Nd5+,Kf2,Nc3,Rd7,b5,Rc7,Nxe2,Kxe2,f6,Ng6,Rb8,Ne7+,Kh7,Ra7,e5,Nf5,b4,Rxa4', 'b3,Rb4,Rxb4,axb4,b2', 'https://lichess.org/training/i47rO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I4CBt', 'Classical', 'gukrasnov', 1880, 'ctokc', 1912, 'e4,c5,Nf3,d6,Be2,Nc6,O-O,Nf6,d3,g6,c4,Bg7,Nc3,O-O,Be3,Ng4,Bf4,e5,Bg5,f6,Bh4,g5,Bg3,Nh6,a3,Be6,Rb1,f5,exf5,Nxf5,b4,b6,b5,Ncd4,Ne4,h6,Nxd4,Nxd4,Bg4,Qd7,Bxe6+,Qxe6,a4,d5,cxd5,Qxd5,Qh5,c4,Nc3,Qc5,dxc4,Qxc4,Rbc1,Rac8,Rfe1,Nb3,Re4,Qd3,Re3,Qd4,Rd1,Nd2,h3', 'Rxc3,Rxc3,Qxc3', 'https://lichess.org/training/I4CBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i4CdY', 'Rapid', 'GM2016', 2023, 'nasr921', 1993, 'g4,d5,Bg2,e5,c4,Nf6,g5,Ne4,cxd5,Nxg5,h4,Bc5,hxg5,Qxg5,Bf3,Na6,Nc3,Qg6,e4,Nb4,d3,Bd7,a3,Na6,b4,Bd4,Bb2,O-O-O,Nge2,Qf6,Ng3,g6,Qe2,h5,Rb1,h4,Nf1,g5,Ne3,Kb8,Bg4,Qf4,Bxd7,Rxd7,Na4,c5,Bxd4,cxd4,Nf5,g4,Rxh4,Rxh4,Nxh4,g3,fxg3,Qxg3+,Qf2,Qxd3,Rd1,Qxe4+,Kd2,Rc7,Nc5,Nxc5,bxc5,Rxc5,Rc1,Rxc1,Kxc1,d3,Kd2,Qc4,Qxf7', 'Qc2+,Ke3,Qe2#', 'https://lichess.org/training/i4CdY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i4Fj0', 'Rapid', 'AlixM', 2014, 'mamink', 2093, 'e4,e6,d4,d5,exd5,exd5,Nf3,c5,c3,Nc6,Bd3,Nf6,O-O,c4,Bc2,Be7,Re1,O-O,Bg5,Bg4,h3,Bh5,Nbd2,h6,Bh4,Bd6,b3,g5,Bg3,Bxg3,fxg3,b5,a4,a6,g4,Bg6,Bxg6,fxg6,Re6,Qd7,Qe2,Rae8,Re1,Kf7,Re3,cxb3,axb5,axb5,Nxb3,Ne4,Nfd2,Nxc3,Qd3,Rxe3,Rxe3,b4,Nc5,Qa7,Rf3+,Ke7,Qe3+,Ne4,Ndxe4,Rxf3,Qxf3,dxe4,Qxe4+,Kd6,Qe6+,Kc7,Qxg6,Nxd4', 'Qg7+,Kb6,Qxd4', 'https://lichess.org/training/i4Fj0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I4fqe', 'Rapid', 'alsing', 1965, 'blackfyre001', 1945, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,Nc3,Qd6,Nb5,Qd8,d4,a6,Nc3,Bd6,Bc4,Be6,d5,Bg4,O-O,Ne7,Qd4,b6,Bxf4', 'Bc5,Qxc5,bxc5', 'https://lichess.org/training/I4fqe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I4i04', 'Rapid', 'order523', 1955, 'FranzLiszt1811', 1920, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,Bb7,Qd3,e6,Bg5,Be7,O-O,h6,Bh4,Nbd7,Rfe1,b4,Nd1,g5,Bg3,Nc5,Qf3,Bxe4,Qe3,Nxb3,axb3,d5,f3,Bg6,Nc6,Qd7,Nxe7,Qxe7,Qb6,O-O,Bd6,Qd8,Qxd8,Rfxd8,Be7,Rd7,Bxf6,Bxc2,Re3,Kh7,Ra4,Bxd1,Rxb4,Kg6,Bc3,a5,Rd4,Bxb3,f4,Bc2,fxg5,hxg5,Rd2,Bf5,Be5,f6,Bg3,e5,Rb3,d4,Rb6,a4,Bxe5,Rf7,Bxd4,a3,bxa3,Rxa3,h3,Rd3,Rxd3,Bxd3,Kf2,Bc4,Kg3,Kf5,Kf2,Be6,Bb2,Rc7', 'g4+,Kg6,Rxe6,Rc2+,Re2', 'https://lichess.org/training/I4i04');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I4iDJ', 'Rapid', 'Jojo14000', 1754, 'alkolrai', 1785, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,g6,d5,Nb8,Nc3,Bg7,Bb5+,Bd7,Ba4,a6,Ke2,b5,Bb3,Nf6,Re1,Qb6,Kf1,Ng4,Be3,Nxe3+,Rxe3,O-O,h3,Be8,Nh2,Nd7,Qg4,Ne5,Qg3,Nc4,Bxc4,bxc4,e5,Bxe5,Rxe5,dxe5,Qxe5,Qxb2,Re1,f6,Qd4,Rd8,Qxc4,Bb5,Nxb5,axb5,Qe4,Qxa2,Ng4,Qxd5,Qxe7,Qf7', 'Nh6+,Kg7,Nxf7', 'https://lichess.org/training/I4iDJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I4Nzy', 'Classical', 'faridkh57', 1687, 'Boll', 1865, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nf3,Nf6,Bg5,Be7,e5,Nxe5,Nxe5,Qa5+,Qd2,Qxe5+,Be3,Nd5,Nc3,Bb4,Qd4,Qc7,Qxg7,Rf8,Bd2,Nxc3,bxc3,Bc5,Qxh7,b6,Be2,Bb7,O-O,O-O-O,Qh3,Rh8,Qg3,Bd6,f4,Rdg8,Bg4,f5,h3,fxg4,h4,Qd8,Be1,Qf6,Rd1,Bc5+,Bf2,Bxf2+,Rxf2,Rxh4,Qd3,Bc6,Qc4,Rgh8,Rfd2,Rh1+,Kf2,Rxd1,Rxd1,Rh2,Rg1,Qh4+,Kf1,Rxg2,Rxg2,Qh1+,Rg1,Qf3+,Ke1,g3,Qe2,Qxc3+,Kf1,Qa1+,Qe1,Qxa2,Rxg3,Bb5+,Kg1,Qxc2', 'Rc3+,Qxc3,Qxc3+', 'https://lichess.org/training/I4Nzy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i4P9d', 'Classical', 'InspektorColumbo', 1797, 'BossEsua', 1835, 'e4,e5,Nf3,Nf6,Nc3,Bc5,h3,Nc6,b3,d5,exd5,Nxd5,Bb2,Bd4,Nxd4,exd4,Nb5,Ndb4,a3,Bf5,axb4,Qe7+,Qe2,Nxb4,Qxe7+,Kxe7,O-O-O,Bxc2,Re1+,Kd7,Bxd4,Bd3,g4,Rhe8,Rxe8,Rxe8,Bxd3,Nxd3+,Kc2,Nb4+,Kd1,a6,Nc3,f6,Re1', 'Rxe1+,Kxe1,Nc2+,Kd1,Nxd4', 'https://lichess.org/training/i4P9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i4p9E', 'Rapid', 'mihelson', 1671, 'Peonsote', 1636, 'e4,c5,f4,e6,Nf3,d5,e5,Nh6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,b5,d4,c4,b3,Be7,Nc3,b4,Ne2,c3,Ng3,O-O,a3,a5,axb4,axb4,Rxa8,Qxa8,Be3,Qa2,Ng5,f5,Nxe6,Ra8,Nxf5,Nxf5,Qg4,Qxc2,Nxg7,Nxg7,Qxd7,Qd3', 'Qxd5+,Kf8,Qxa8+', 'https://lichess.org/training/i4p9E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i4QFW', 'Classical', 'vinnigevalk', 1543, 'domesdoeg', 1549, 'd4,d5,c4,dxc4,e4,Nc6,d5,Ne5,Bxc4,Nxc4,Qa4+,c6,Qxc4,cxd5,exd5,Nf6,Nc3,Qa5,Qb5+,Qxb5,Nxb5,Nxd5,Nf3,e6,O-O,Bd6,Be3,Be7,Rad1,Bd7', 'Rxd5,exd5,Nc7+,Kf8,Nxa8', 'https://lichess.org/training/i4QFW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i4Va5', 'Rapid', 'CS80', 1959, 'Miguel_Gon', 1966, 'e4,g6,Nf3,Bg7,Bc4,d6,Nc3,Nf6,d4,Bg4,O-O,O-O,h3,Bxf3,Qxf3,e5,dxe5,dxe5,Bg5,Nbd7,Rad1,c6,Rxd7,Qxd7,Bxf6,b5,Bxg7,Kxg7,Be2,Qd2,Rd1,Qxc2,Rd6,Qxb2,Nd1,Qxa2,Kf1,Rad8', 'Qf6+,Kg8,Rxd8,Rxd8,Qxd8+', 'https://lichess.org/training/i4Va5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I4Yuo', 'Rapid', 'maddog1812970', 2084, 'ufrason2006', 1923, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,d3,d5,Nbd2,Nf6,O-O,Be7,c4,O-O,b3,d4,Ne5,Qc7,Ndf3,Nd7,g3,Nxe5,Nxe5,Qxe5,f4,Qc7,Qg4,f5,Qf3,Bd7,e5,a5,a4,Rab8,Rb1,Rb6,Rf2,Rfb8,Rfb2,Kh8,Bd2,Qd8,Bxa5,Qc8,Bxb6,Rxb6,h4,Be8,Kf2,Bf7,Ke1,Qe8,Kd2,Bh5,Qf2,Bg4,Rf1,Qb8,Kc2,h5,Ra1,Ra6,Qd2,Bd8,b4,Qa7,a5,Kh7,Rba2,cxb4,Qxb4,c5,Qb5,Be7,Rb2,Bd8,Qb7,Qxb7,Rxb7,Rxa5,Rab1,Ra2+,R7b2,Ra6,Rb8,Ba5,Ra1,Rb6,Rxb6,Bxb6,Ra6,Bc7,Rxe6,Ba5,Rc6,Bb4,e6,Kg6,Kb3,Bd1+,Kb2,Kf6,Ra6,Be2,Kc2,Be1,Rc6,Bxg3,Rxc5,Bxf4', 'Rxf5+,Kxf5,e7', 'https://lichess.org/training/I4Yuo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i4zAt', 'Classical', 'Akinluyi', 1814, 'sidorovvf777', 1731, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d3,f6,Nh4,d6,Bxc6+,Nxc6,Qh5+,Kd7,Nc3,Ne7,Nd5,c6,Nxe7,Bxe7,Nf5', 'g6,Qe2,gxf5', 'https://lichess.org/training/i4zAt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i4zls', 'Rapid', 'VladislavAlikin', 1647, 'skriv', 1650, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Bxc3+,bxc3,Qe7,Qd5,f6,exf6,Nxf6,Qd3,d6,g3,O-O,Bg2,g6,O-O,Bf5,Qd1,Rad8,Bh6,Rfe8,Ng5,Ne5,Bd5+,Kh8,Nf7+', 'Nxf7,Bxf7,Qxf7', 'https://lichess.org/training/i4zls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i51Hs', 'Rapid', 'AnatolijNik', 1608, 'GATO22-miau', 1619, 'c4,e6,Nf3,c5,e4,h6,Nc3,a6,d4,cxd4,Nxd4,Bc5,Nb3,Qb6,Nxc5,Qxc5,Be3,Qe5,g3,Nf6,Bf4,Qa5,Bg2,O-O,O-O,Re8,e5,Nh7,Qg4,Kh8,Rfe1,Nc6,Qh5,Rf8,Ne4,d6,Nxd6,f6,Nf7+,Kg8,Nxh6+,gxh6,Qg6+,Kh8,Bxh6,Rg8,Qf7,Nxe5,Qe7,Qd8', 'Bg7+,Rxg7,Qxd8+', 'https://lichess.org/training/i51Hs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i51Li', 'Classical', 'kavsav', 1778, 'drewgoodman1', 1715, 'e4,c5,Nc3,Nc6,Nf3,d6,Bc4,Nf6,d3,g6,Ng5,e6,O-O,Bg7,Be3,O-O,f4,a6,e5,dxe5,Bxc5,Re8,fxe5,Nxe5,Qe2,Qc7,Bd4,Neg4,g3,b5,Bb3,Bb7,Nce4,Nxe4,Bxg7,Kxg7', 'Rxf7+,Qxf7,Nxf7', 'https://lichess.org/training/i51Li');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i52zd', 'Rapid', 'Boyaro', 1981, 'labibalmuna', 1858, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,c4,Bg4,h3,Bb4+,Nbd2,Bxf3,Qxf3,Nxd4,Qe3+,Ne6,a3,Bc5,Qg3,Nf6,cxd5,Nxd5,Be2,Qf6,Ne4,Qg6,O-O,O-O-O,Qxg6,hxg6,Bg4,f5,Nxc5,Nxc5,Bf3,Nb3,Rb1,g5,Bxg5,Rd7,Rbd1,c6,Rd3,Nc5,Rxd5,cxd5,Rc1,Rc7,Bxd5,Ne4', 'Be6+,Kb8,Bf4', 'https://lichess.org/training/i52zd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I59jz', 'Blitz', 'Dose92', 1911, 'Dmitriy_pasechnik', 1888, 'c4,e6,Nc3,c5,g3,d5,cxd5,exd5,Bg2,Nf6,a3,d4,Ne4,Be7,Nxf6+,Bxf6,Nf3,Nc6,O-O,Be6,Qa4,h5,b4,d3,Rb1,dxe2,Re1,h4,Rxe2,hxg3,fxg3,Kf8,bxc5,Nd4,Nxd4,Bxd4+,Kh1,Bd5,Bb2,Bxg2+,Rxg2,Bxc5,Qg4,f6,Bc3,Qd5,Re1,Re8,Rxe8+,Kxe8,Qc8+,Kf7,Qxh8,Qf5,h4', 'Qh3+,Rh2,Qf1#', 'https://lichess.org/training/I59jz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I59qQ', 'Rapid', 'bob1791', 2057, 'aelment', 2125, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,Bb4,Nxc6,bxc6,Bd2,Nf6,a3,Bxc3,Bxc3,O-O,Bd3,d5,exd5,cxd5,Be5,Nd7,Qh5,g6,Qe2,Qg5,Bg3,Nc5,O-O,Nxd3,cxd3,a5,d4,Ba6,Qf3,Bxf1,Rxf1,Qf5,Bf4,g5,Be5,Qxf3,gxf3,f6,Bd6,Rfc8,Bc5,Rab8,b4,axb4,axb4,Ra8,Rb1,Rcb8,b5,Ra5,b6,Kf7,b7,Ke8', 'Bd6,Ra1,Rxa1', 'https://lichess.org/training/I59qQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5A9e', 'Rapid', 'Yuri98', 1763, 'KURT-CEBE', 1836, 'e4,c5,Nf3,d6,Nc3,Nf6,Bb5+,Bd7,Bc4,a6,O-O,b5,Bd5,Nxd5,Nxd5,Nc6,d4,e6,Nf4,cxd4,Nxd4,Be7,Nxc6,Bxc6,Qg4,O-O,Nh5,g6,Bh6,Re8,Qf4,gxh5', 'Qg3+,Bg5,Bxg5', 'https://lichess.org/training/i5A9e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5aj0', 'Rapid', 'rotessofa', 1977, 'sasha_win', 1878, 'e4,e5,Nc3,Nc6,f4,Bb4,Nf3,d6,Bc4,Be6,Nd5,Bxd5,Bxd5,Nge7,Bb3,Qd7,O-O,O-O,c3,Ba5,d4,exd4,cxd4,Bb6,Be3,Nd8,Rc1,Kh8,Qd2,f5,e5,dxe5,dxe5', 'Qxd2,Nxd2,Bxe3+', 'https://lichess.org/training/i5aj0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I5cbi', 'Blitz', 'sim13a', 2364, 'FM Artem_0degov', 2564, 'e4,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,Nc3,e6,d4,d6,cxd6,cxd6,f4,dxe5,fxe5,Nxc3,bxc3,Qh4+,g3,Qe4+,Kf2,Qxh1,Nf3,Bd7,Qd3,Bc6', 'Bg2,Qxg2+,Kxg2', 'https://lichess.org/training/I5cbi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I5cfG', 'Rapid', 'MostComplexMess', 1881, 'Pailai', 1845, 'd4,d6,c4,Nf6,Nc3,c6,e4,Qc7,Nf3,Bg4,Be2,b5,cxb5,c5,d5,Qa5,Bd2,Nbd7,O-O,Rb8,a4,e6,dxe6,Bxe6,Bf4,Qc7,Ng5,Be7,Nxe6,fxe6,Bh5+,g6,Bg4,Kf7,Bg5,h6,Bxf6,Bxf6,f4,h5,Bh3,Rhe8,e5,dxe5,fxe5,Nxe5,Ne4,Nd7,Nd6+,Kg7,Nxe8+,Rxe8,Qf3,Rf8,Qb3,c4,Qb4,Be7,Qc3+,Kh7,Rxf8,Nxf8,Rf1,e5,Rf7+,Kg8,Qf3', 'Bc5+,Kh1,Qxf7,Qxf7+,Kxf7', 'https://lichess.org/training/I5cfG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I5DZO', 'Rapid', 'MihirManipal', 2145, 'vista23', 2049, 'd4,d5,Nf3,Nf6,e3,c5,c3,Bf5,Bd3,Bg6,dxc5,Nbd7,b4,e5,Bb5,Qc7,Qa4,Be7,c6,bxc6,Bxc6,Rc8,b5,O-O,Ba3,Nb6,Qb3,Nc4,Bxe7,Qxe7,O-O,Rfd8,Rd1,Bh5,Nbd2,Nxd2,Rxd2,Ne4,Rdd1,Rd6,Rac1,Rh6,Bxd5', 'Bxf3,Bxe4,Bxe4', 'https://lichess.org/training/I5DZO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I5DZs', 'Rapid', 'GlassOfRedWine', 1861, 'CharlieHDevonChess', 1878, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f4,Bg4,Be2,Bxe2,Qxe2,Bg7,O-O,Qb6,Qd2,Nc6,Nd5,Nxd5,exd5,Qxd4+,Qxd4,Nxd4,c3,Ne2+,Kh1,Nxc1,Raxc1,O-O,f5,a5,Rce1,Rfe8,fxg6,fxg6,g4,Rf8,Rg1,Be5,h4,Rf3,h5,Bg3,Rxe7,gxh5,gxh5,Kh8,Kg2,Rd3,Rf1,Rb8,Rff7,Be5,Rxh7+,Kg8,h6,Rd2+,Kf3,Rxb2,Rhf7,Rf8', 'h7+,Kh8,Rxf8#', 'https://lichess.org/training/I5DZs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5eF0', 'Rapid', 'krillnor', 1629, 'AlejandroM', 1618, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,h3,Bb4+,Bd2,Bc5,O-O,d6,Re1,d5,exd5,Nxd5,Bxd5,Qxd5,Bc3,f6,d4,Bd6,Qd3,O-O,Nbd2,Re8,Nh4,Nb4,Qg6,Be6,a3,Nxc2,Qxc2,c5,dxe5,fxe5,Ndf3,e4,Rxe4,g5,Ng6,Bf5,Rxe8+,Rxe8,Qa4,Bxg6,Qd7', 'Bh2+,Nxh2,Qxd7', 'https://lichess.org/training/i5eF0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5ewZ', 'Classical', 'UMGHTDIE', 1918, 'KaushikB', 1877, 'd4,d5,c4,c6,Nc3,f6,cxd5,cxd5,Qb3,e6,Nf3,a6,a4,Nc6,e3,Bd6,Be2,Nge7,O-O,Na5,Qa2,Nec6,b3,Qb6,Rb1,Nb4,Qb2,Bd7,Bd2,e5,dxe5,fxe5,Rfd1,e4,Nd4,O-O,Be1,Rae8,Nc2,Be6,Nxb4,Bxb4,Nxd5,Bxd5,Bxb4,Qxb4,Rxd5,Nc6,Bc4,Kh8,Rbd1,Rf6,Rd7,h6,Qe2,Kh7,R1d6', 'Rxd6,Rxd6,Qxd6', 'https://lichess.org/training/i5ewZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I5ez5', 'Classical', 'Hartwig_Heine', 1701, 'Kolenkur', 1641, 'd4,d5,c4,e6,Nc3,Nf6,a3,Be7,Bf4,a6,e3,c6,Be2,O-O,Nf3,Nbd7,O-O,dxc4,Bxc4,b5,Bb3,Bb7,Rc1,Nd5,Nxd5,exd5,Bc2,f5,Qd3,b4,axb4,Bxb4,Bb1,a5,Be5,Ba6,Qc2,Bxf1,Kxf1,c5,Bd6,Rf7,dxc5,Rc8,Qb3,Bxc5,Bf4,Bb4,Rd1,Nc5,Qxd5,Qxd5,Rxd5,Nb3,Bxf5,Rxf5,Rxf5,Rc1+,Ke2,Rc2+,Kd3,Rxb2,Be5,Rxf2,Rg5,g6,Bd4,Bf8,Rb5,Nxd4,exd4,a4,Ne5,Rxg2,Nc4,a3,Ra5,Rxh2,d5,Bb4,d6,a2,d7,Be7,Ne5,Rh3+,Ke4,Rh4+,Kd5,Rh2,Ke6,Kf8', 'Ra8+,Kg7,Kxe7', 'https://lichess.org/training/I5ez5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I5geY', 'Rapid', 'JH333', 2012, 'Norfor', 2052, 'e4,c5,Nf3,e6,Nc3,a6,Be2,d5,exd5,exd5,d4,Nf6,dxc5,Bxc5,O-O,O-O,Bg5,Be6,Bd3,h6,Bh4,Bb4,a3,Bxc3,bxc3,Nbd7,Re1,Rc8,Qd2,Qa5,Nd4,Rfe8,Nxe6,Rxe6,Rxe6,fxe6,Bxf6,Nxf6,Qe3,Kf7,Re1,Rc6,Qg3,Qxa3,Qg6+,Kf8,Qg3,Qxc3,Qb8+,Rc8,Qd6+,Kg8,Qxe6+,Kh8,h3,a5,Re3,Rf8,Bg6,Qc7,Ra3,Qc5,Rb3,Ne4,Bxe4,Qxf2+,Kh2,Qf4+,Kh1,dxe4,Rxb7,a4,Ra7,a3,Qe7,Rg8,Rxa3,Rb8,Ra1,e3,Re1,Rb6', 'Qd8+,Kh7,Qxb6', 'https://lichess.org/training/I5geY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5HE8', 'Rapid', 'imdad0008', 1779, 'BALKANY', 1828, 'e4,c6,Nf3,d5,Bd3,dxe4,Bxe4,Nf6,Bd3,e6,O-O,Be7,Nc3,b6,Re1,Bb7,Ne4,Nxe4,Bxe4,O-O,d3,Nd7,Qe2,Nc5,Rd1,Nxe4,dxe4,Qc7,Be3,c5,c3,Bxe4,Rd2,Bxf3,Qxf3,Rad8,Re2,Bd6,g3,Kh8,Rd1,Be7,Rde1,c4,Bf4,Bd6,Bg5,Rd7,Rxe6,Qc8,R6e4,f6,Be3,Qc6,Qg2,Rdd8,Bc1,Be5,Qf1,b5,Qh3,h6,Bxh6,Kg8,Bxg7,Kxg7,Rg4+,Kf7,Qh7+,Ke6,Rxe5+,fxe5', 'Rg6+,Kd5,Rxc6', 'https://lichess.org/training/i5HE8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5jas', 'Rapid', 'louis99w', 2049, 'Goldking64', 1997, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bg5,Nbd7,e3,h6,Bh4,Ne4,Bxe7,Qxe7,Bd3,Nxc3,bxc3,c6,c5,O-O,a4,e5,dxe5,Nxe5,Nd4,Qxc5,Qd2,Nxd3+,Qxd3,Bd7,O-O,Qd6,Rfc1,a6,a5,c5,Nf5,Bxf5,Qxf5,Rad8,Rd1,Qe6,Qf3,Qe4,Qxe4,dxe4,c4,Rd3,Rxd3,exd3,Rd1,Rd8,Rd2,f5,f4,Kf7,Kf2,Kf6,Kf3,g5,g3,g4+,Kg2,Rd6,h3,h5,h4,Ke7,Kf1,Kd7,Ke1,Kc6,Kd1,b6,axb6,Kxb6,Rb2+,Kc6,Kd2,a5,Kc3,d2,Rxd2,Rxd2,Kxd2,a4,Kc3,Kb6,Kb2,Ka6,Ka2,Ka5', 'Ka3,Kb6,Kxa4', 'https://lichess.org/training/i5jas');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5JI7', 'Rapid', 'shetoo', 1736, 'bognolito', 1723, 'd4,Nf6,Nf3,g6,c4,b6,Nc3,Bb7,e3,Bg7,Bd3,d5,Qb3,O-O,Bd2,e6,Ne5,Nbd7,f4,Nxe5,fxe5,dxc4,Bxc4,Ng4,Bxe6,Qh4+,g3,Qh3,Bd5,Bxd5,Qxd5,Rfd8,Qb7,Rab8,Qxc7,Qg2,O-O-O,Nf2,Rhg1,Qxh2,Qxa7,Nxd1,Rxd1,Qxg3,Kb1,Rdc8,Ne4,Qg2,Nd6,Rf8,Bc1,Bh6,Qa3,Qd5', 'e4,Qe6,Bxh6', 'https://lichess.org/training/i5JI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5ks3', 'Rapid', 'ghrab01', 1713, 'Szenya', 1816, 'e4,b6,Nc3,Bb7,Bc4,g6,d3,Bg7,Nge2,Nf6,Bg5,O-O,Qd2,c6,Ng3,d5,exd5,cxd5,Bxf6,Bxf6,Bb3,d4,Nce4,Bg7,O-O,e5,Rae1,a5,a3,a4,Ba2,b5,f4,Nd7,Nd6,Bc6,Nxf7,Rxf7,Bxf7+,Kxf7,fxe5+,Kg8,e6,Ne5,Qf4,Qd6,Ne4,Qxe6,Ng5,Qd5,Ne4,Rf8', 'Qxf8+,Bxf8,Nf6+,Kg7,Nxd5', 'https://lichess.org/training/i5ks3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5kVX', 'Rapid', 'matthb79', 1673, 'Den19987', 1784, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,c3,Nf6,b4,Bb6,a4,a5,b5,Ne7,Nxe5,O-O,O-O,d6,Nf3,Bg4,Nbd2,d5,exd5,Nfxd5,Bb2,Ng6,Qb3,Bxf3,Nxf3,Nf6,d4,Re8,Rad1,Qd6,Bxf7+,Kh7,Bxe8,Rxe8,Ba3,Qf4,Bc1,Qg4,Rde1,Rf8,Ba3,Rf7,Bc5,Bxc5,dxc5,Rf8,c6,bxc6,bxc6,Ne4,Nd4,Nd2,Qe6,Qf4,Qe3,Qxe3,Rxe3,Nxf1,Kxf1,Rb8,g3,Rb1+,Kg2,Ra1,Nb5,Rxa4,Nxc7,Rc4,Nd5,Rxc6,Re4,Rc5,Nb6,Rxc3,Ra4,Rc5,Nd7,Rd5,Nb8,Ne5,f4,Ng4,h3,Ne3+,Kf3,Nc2,Nc6,Rd3+,Kg4,h5+,Kxh5,Rxg3,Kh4,Rf3,Nxa5,Ne1,Ra2,Ng2+,Kg4,Ne1,Nc6,Rc3,Ne5,Nd3,Nf3,Rc1,Ng5+,Kh6,Nf7+,Kh7,Ne5,Rg1+,Kf3,Nb4,Rg2,Rf1+,Rf2,Rh1,Kg4,Nd5,Nf7,Ne3+,Kg5,Rg1+,Kh4', 'Nf5+,Kh5,g6#', 'https://lichess.org/training/i5kVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5mEV', 'Classical', 'mhmagnus2000', 1866, 'AnogaEre', 2136, 'e4,g6,d4,Bg7,Nf3,c5,c3,cxd4,cxd4,Nc6,Bc4,d6,O-O,Bd7,Be3,e6,Nc3,a6,a4,Nge7,Qd2,h5,h3,Rc8,Rac1,Na5,Ba2,Nc4,Bxc4,Rxc4,b3,Rc8,Ne2,O-O,Bh6,f5,e5,dxe5,Nxe5,Bc6,Qg5,Bf6,Qg3,h4,Qf4,Nd5,Qd2,Bxe5,Bxf8,Qxf8,dxe5,f4,Nd4,Qe8,Qe2,Kf7,Qg4,Qe7,Nf3,Re8,Nxh4,Rg8,Nf3,g5,g3,Rg6,Nd4,Bd7,Qh5,Kg7,Nf3,g4,hxg4,Rh6,Qg5+,Qxg5,Nxg5,Rg6,Ne4,Rxg4,Kh2,b5,Nc5,Bc8,axb5,axb5,Ne4,fxg3+,fxg3,Rxe4,Rxc8,Rxe5,Rcf8,b4,R8f7+,Kg6,R7f2,Ne3,Re1', 'Ng4+,Kg2,Rxe1', 'https://lichess.org/training/i5mEV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5mpw', 'Rapid', 'Milchreis', 1617, 'nandk', 1623, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,e6,Bg5,Be7,Qd2,a5,Bb5+,c6,Bd3,b5,a4,b4,Ne4,Nxe4,Bxe7', 'Nxd2,Bxd8,Nxf3+,gxf3,Kxd8', 'https://lichess.org/training/i5mpw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I5p9l', 'Bullet', 'skybluelacoste', 2855, 'IM Dampchess', 2676, 'd4,g6,c4,c5,Nc3,cxd4,Qxd4,Nf6,Nd5,Nc6,Nxf6+,exf6,Qd1,Bb4+,Bd2,O-O,e3,d5,cxd5,Qxd5,Nf3,Bg4,Be2,Rad8,Bxb4,Nxb4,O-O,Kg7,h3,Bxf3,Bxf3,Qb5,Qe2,Qxe2,Bxe2,Rd2,Bf3,Rxb2,Rfb1,Rxb1+,Rxb1,Nxa2,Rxb7,a5,Ra7,Nc1,Rxa5,f5,Ra7,Nd3,Bd5,Ne5,Kh2,h5,h4,Nd3,Ra2,Nb4,Ra5,Nxd5,Rxd5,Rb8,Kg3,Rb2,Rd4,Kf6,Rf4,Rb6,f3,Re6,e4,Re5,exf5,Rxf5,Ra4,Re5,Ra6+,Re6,Ra4,Re5,Ra8,Re6,f4,Re3+,Kf2,Re4,Ra6+,Re6,Ra5,Re4,g3,Re6,Kg2,Re7,f5,Re2+,Kf3,Re5,Ra6+,Kg7,Ra7,Rxf5+,Kg2,Rf6,Kh3,Re6,Ra3,Rf6,Ra2,Re6,Rh2,Kf6,Rg2,Kg7,Rh2,Rf6,Rg2,Rf1,Rh2,f6,Rg2,g5,Kh2,g4,Rd2,Rf3,Kg2,Kg6,Rd6,Rf5,Rd1,Re5,Re1,Rf5,Rf1,Re5,Kg1,Rf5,Kg2,Rf3,Rxf3,gxf3+,Kf2,Kf5,Kxf3,Ke5,Ke3,f5,Kf3,Kf6', 'Kf4,Ke6,Kg5,Ke5,Kxh5,f4,gxf4+', 'https://lichess.org/training/I5p9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I5qeO', 'Rapid', 'fmas131', 1826, 'malczuu', 1820, 'd4,e6,e4,d5,e5,c5,Bb5+,Bd7,Bxd7+,Nxd7,dxc5,Bxc5,Nf3,Ne7,O-O,Ng6,Bg5,Qb6,Nc3,Ngxe5,Nxe5,Nxe5,Na4,Qb4,c3,Qb5,Nxc5,Qxc5,Qa4+,Nc6,Be3,Qd6,b4,O-O,Bc5,Qf4,Bxf8,Rxf8,Qb5,Rb8,a4,a6,Qb6,Ne5,Qc7', 'Nf3+,gxf3,Qxc7', 'https://lichess.org/training/I5qeO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5qk6', 'Rapid', 'Igor777333', 1911, 'iamichiro', 1897, 'Nf3,Nf6,Nc3,d5,d4,g6,Bf4,c6,Qd2,Bg7,Bh6,O-O,Bxg7,Kxg7,h3,Nbd7,g4,Rh8,Ne5,Ne4,Nxe4,dxe4,Nxd7,Bxd7,O-O-O,e6,Bg2,f5,Qf4,Qb8,Qe5+,Qxe5,dxe5,Rad8,f3,exf3,exf3,Bc8,f4,Kf7,gxf5,gxf5,Bf3,Ke7,Rhg1,Rxd1+,Bxd1,Kf8,Bh5,Rg8,Rd1,Ke7,b3,Rg3,Rd3,Rxd3,cxd3,b6,d4,c5,dxc5,bxc5,Kc2,Bb7,Kc3,Bd5,a3,h6,Be2,Kd7,Bc4,Kc6,h4,a5,a4,Bxc4,Kxc4,Kb6,h5,Kc6,Kd3', 'Kd5,Kc3,Ke4,Kc4,Kxf4', 'https://lichess.org/training/i5qk6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5TFg', 'Blitz', 'jinman2718', 1895, 'Zeratul', 1648, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bg5,d6,e3,Nbd7,Be2,c6,Qc2,h6,Bh4,b6,O-O,Bb7,Rfd1,Nh5,Rac1,g5,Nd2,gxh4,Bxh5,Nf6,Bf3,Rc8,Nde4,Nh7,b4,a6,c5,d5,Nd2,Ng5,Bg4,Rb8,Nf3,Bc8,Bh5,Nxf3+,Bxf3,b5,h3,Qc7,Ne2,Kh8,Nf4,Rg8,Bh5,e5,dxe5,Bxe5,Qd2,Bxf4,exf4,Bxh3,Bf3,Rbd8,f5,Rg5,Kh1,Bxf5,Re1,Rdg8,Re2,h3,g3,Be4,Bxe4,dxe4,Rxe4,Qc8,Rh4,Qf5,Rxh6+,Kg7,Rh4', 'Qf3+,Kg1,Qg2#', 'https://lichess.org/training/i5TFg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5uRT', 'Rapid', 'Latvian', 1909, 'dbetelu', 1923, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Bg6,O-O,Ne7,c4,Nf5,c5,Be7,b4,Nd7,a4,b6,Na3,a6,Nc2,b5,a5,Qc7,Ne3,Nxe3,Bxe3,O-O-O,h3,h6,Nh2,Bf5,f4,g5,Bh5,f6,fxg5,hxg5,exf6,Nxf6,Bg4,Nxg4,Nxg4,Rdg8,Ra2,Rh4,Raf2', 'Bxg4,Qxg4,Rxg4', 'https://lichess.org/training/i5uRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5Vza', 'Blitz', 'simonr2', 1939, 'Fish-Cole', 1997, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,d3,Bc5,Bg5,Bg4,Nbd2,Qd6,O-O,O-O-O,Qe1,h6,Bh4,g5,Bg3,Rde8,Nc4,Qe7,Nfxe5,Nh5,Nxg4,Nxg3,hxg3,h5,Nh2,h4,g4,h3,g3,b5,Ne3,Qe5,c3,Bb6,Qe2,f5,gxf5,Ref8,Neg4', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/i5Vza');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I5Xv7', 'Classical', 'sahinakdogan65', 1683, 'Srbin_Ozren', 1677, 'e4,e5,Nf3,Qf6,Bc4,h6,d3,Bc5,O-O,d6,h3,Ne7,c3,Ng6,b4,Bb6,a4,c6,a5,Bd8,Be3,Nf4,Bxf4,Qxf4,Nbd2,g5,g3,Qf6,g4,h5,Nh2,hxg4,hxg4,Qf4,Ndf3,Bxg4,Kg2,Rxh2+,Nxh2,Bxd1,Raxd1,g4,f3,g3,Ng4,Nd7,Rh1,Bf6,Rh3,Ke7,Rxg3,Rh8,Nf2,Bg5,Nh3,Qh4,Rh1,Bf4,Rg4,Qh6,Nf2,Bh2,Bb3,Nf8,Bd1,Ng6,Kf1,Nf4,d4,Nd3,Nxd3,Qh3+,Ke2,Rh4', 'Nf2,Rxg4,Nxh3', 'https://lichess.org/training/I5Xv7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I5ytS', 'Rapid', 'arturdead', 1992, 'Kenigsberg72', 1877, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,e3,O-O,Ne2,d5,b3,Ne4,f3,Bxc3+,Nxc3,Qh4+,g3,Nxg3,Qf2,Nf5,Qxh4,Nxh4,Be2,cxd4,exd4,Nc6,Be3,Nf5,Bf2,Nfxd4,O-O-O,Nxe2+,Nxe2,dxc4,bxc4,b6,Rhg1,Ba6,Nf4,g6,h4,h5,Nxh5,Kh7,Nf6+,Kh8,h5,Rfd8,Rde1,Nb4,Re3,Nd3+,Rxd3,Rxd3,hxg6,fxg6,Rxg6,Rad8,Bh4,Bxc4,Ng4,Rd1+,Kc2,R8d2+,Kc3,Bd3,Bf6+,Kh7,Rg7+,Kh8,Rxa7+,Kg8', 'Nh6+,Kf8,Ra8#', 'https://lichess.org/training/I5ytS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i5ZRi', 'Blitz', 'Kalpataru', 1867, 'langneh', 1702, 'e4,Nf6,e5,Nd5,Nf3,d6,d4,g6,Bc4,Nb6,Bb3,Bg7,O-O,O-O,h3,Nc6,c3,dxe5,d5,Na5,Be3,Nxb3,axb3,Nxd5,Bg5,f6,Bh4,Bf5,Nbd2,Nf4,Bg3,Qd3,Nc4,Ne2+,Kh1,Nxg3+,fxg3,Rfd8,Nh4,Qxg3,Nxf5,gxf5,Qc2,Rd3,Rxf5,b5,Na5,Rad8,Raf1,Rd2,Qe4,Bh6,Nc6,R8d7,R5f3,Qg6,Qxg6+,hxg6,Nxa7,Rxb2,Nxb5,Rdd2,Rg1,e4,Rg3,Bf4,Rxg6+,Kf7,Rg4,e5,Nxc7,Rxb3,c4,Rc3,Nd5', 'Rxh3+,gxh3,Rh2#', 'https://lichess.org/training/i5ZRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I64Ml', 'Classical', 'oguz_03', 1769, 'Nerso', 1744, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,cxd6,Nf3,g6,Bd3,Bg7,c5,dxc5,dxc5,Nd5,Bc4,Be6,Nc3', 'Nxc3,Qxd8+,Kxd8,Bxe6,fxe6', 'https://lichess.org/training/I64Ml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i69mp', 'Rapid', 'raweee444', 2028, 'motaz1234', 1834, 'd4,e6,Nf3,d5,Bf4,Bd6,Bxd6,Qxd6,e3,Nf6,Nbd2,O-O,Bd3,h6,a3,b6,c4,c5,dxc5,bxc5,O-O,Nc6,Bc2,Bb7,cxd5,exd5,e4,dxe4,Nxe4,Nxe4,Bxe4,Qf6,Qc1,Na5,Bxb7,Nxb7,Re1,Na5,Qc2,Rac8,Rad1,c4,Ne5,Rfe8,Nf3,Rxe1+,Rxe1,Rb8,h3,Qxb2', 'Re8+,Rxe8,Qxb2', 'https://lichess.org/training/i69mp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i6a7m', 'Rapid', 'chesschuc02', 1937, 'aykut588', 1949, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bg5,O-O,Bxf6,Bxf6,Bc4,Nd7,O-O,Nc5,Bb3,Re8,Re1,Bd7,Nd5,Nxe4,Nxf6+,Nxf6,Rxe8+,Qxe8,Qf3,Bc6,Nxc6,Qxc6,Qxc6,bxc6,f3,c5,Rd1,Re8,Kf2,g6,a4,a5,Bc4,Rb8,b3,Nd7,Bb5,Ne5,f4,c6,fxe5,cxb5,exd6,bxa4,d7,Rd8,bxa4,Kf8,Ke3,Ke7,Ke4,Rxd7,Rxd7+,Kxd7,Kd5,f5,Kxc5,g5,Kb5,f4,Kxa5', 'g4,Kb4,f3,gxf3,gxf3,Kc4,f2', 'https://lichess.org/training/i6a7m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I6azS', 'Rapid', 'want2loz', 1964, 'CHAFin', 1978, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e6,Bxc4,Be7,Nf3,Nc6,O-O,O-O,Be3,a6,Rc1,Bd7,Bd3,Ng4,Bf4,f5,h3,Nf6,e5,Ne8,a3,g5,Bh2,h6,d5,Bc5,dxc6,Bxc6,Bc2,Qe7,Qe2,Ng7,Rfd1,Rad8,b4,Bb6,Rxd8,Rxd8,Na4,Bxa4,Bxa4,f4,Rd1,Nf5,Rxd8+,Qxd8,Qd1,Nd4,Nxd4,Bxd4,Kf1,Qd5,h4,Qc4+,Kg1,Qd5,hxg5,hxg5,Qg4,Qxe5,Qd1,Kg7,g3', 'fxg3,Kg2,gxh2', 'https://lichess.org/training/I6azS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I6BmP', 'Classical', 'KimDimSan', 1732, 'unerriar', 1798, 'e4,c5,Nf3,d6,Nc3,g6,d4,cxd4,Qxd4,Nf6,Nd5,Nc6,Qc3,Bg7,Bb5,O-O,Bxc6,Nxd5,Qb3,bxc6,exd5,Qa5+,Bd2,Qxd5,O-O,Be6,Qe3,Bxb2,Rad1,Qxa2,Bc3,Bxc3,Qxc3,Qc4,Qe3,Bg4,Rd4,Qe6,Qxe6,fxe6,Rxg4,d5,Ne5,c5,Nd7,Rf5,Re1,d4,Rxe6,Rd8,Rxe7,a5,Nb6,d3,cxd3,Rxd3,h3,Rb3,Na4,Rb4,Rxb4,cxb4,Re3,Rb5,Rb3,Kf7,Kf1,Ke6,Ke1,Kd5,Kd2,Kc4,Kc2,Rf5,f3,Re5,Nb2+,Kb5,Kd2,a4,Nd3,Rd5,Rxb4+,Ka5,Kc3', 'Rxd3+,Kxd3,Kxb4', 'https://lichess.org/training/I6BmP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i6cpV', 'Rapid', 'mcaleap', 1821, 'FlamingFeesh', 1669, 'e4,c5,Qf3,Nc6,c3,e6,Bb5,Nf6,Ba4,Be7,h3,O-O,d3,Re8,Ne2,d5,exd5,exd5,O-O,Bd7,Ng3,Ne5,Qd1,Bxa4,Qxa4,Nxd3,Qc2,c4,Bg5,h6,Bxf6,Bxf6,Nd2,Qb6,b3,Nb4,Qc1,Nd3,Qc2,Rac8,Rab1,Qc6,bxc4,dxc4,a4,a6,a5,Bd8,Ra1,Qc5,Nde4,Qe5,f4,Qe7,Rf3,Qd7,Qa4,Qxa4,Rxa4,Bc7,Rxc4,Bxa5', 'Rxc8,Rxc8,Rxd3', 'https://lichess.org/training/i6cpV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i6DaZ', 'Rapid', 'riceming24', 1812, 'Zievutdin', 1822, 'e4,e5,Nc3,c6,Bc4,Bb4,a3,Bxc3,bxc3,Nf6,Nf3,d6,d3,O-O,O-O,b5,Bb3,a5,a4,Ba6,Bg5,Nbd7,axb5,Bxb5,Re1,a4,Ba2,Qb6,Be3,c5,c4,Bc6,h3,Nh5,Qd2,Qa5,c3,f5,exf5,Rxf5,Ng5,Nf4,Bxf4,Rxf4,Ne6,Rf6,Ng5,Raf8,f3,Rg6,Bb1,Rgf6,Qc2,Qd8,d4,g6,d5,Bb7,h4,h5,Rxa4,Nb6,Ra7,Bc8,g4,hxg4,fxg4,Bxg4,Qg2,Bh5,Ne6,Qb8,Rg7+,Kh8,Bxg6,Bxg6,Rxg6', 'Rxg6,Qxg6,Rg8', 'https://lichess.org/training/i6DaZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I6f63', 'Blitz', 'ojavier16', 2326, 'FM TriniCupid', 2337, 'e3,d5,d4,Nf6,Nf3,c5,c3,Nc6,Bd3,Bg4,O-O,e6,Nbd2,c4,Bc2,Be7,e4,O-O,e5,Ne8,Re1,b5,h3,Bh5,Nf1,b4,Bf4,Bg6,Bxg6,fxg6,Qd2,Rb8,Bg5,Rf5,Bxe7,Nxe7,Ne3,Rf8,cxb4,Qb6,a3,Nc7,Rab1,Rxf3,gxf3,Rf8,Kg2,Qb5,b3,cxb3,Rxb3,Qe8,Rc1,Na8,Qc2,Qf7,Nf1,Qf4,Ng3,h5,h4,Qxh4,Qd2,Kh7,a4,Nf5,Rd3,Nb6,Nxf5,Rxf5,Rh1', 'Rg5+,Qxg5,Qxg5+', 'https://lichess.org/training/I6f63');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I6FeI', 'Rapid', 'Sashkin', 1890, 'Ignadaptado', 1912, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Be6,Bxe6,fxe6,d4,Nf6,e5,dxe5,Nxe5,Nbd7,Bxf4,Bd6,O-O,c5,Nxd7,Qxd7,Bxd6,Qxd6,c3,O-O-O,Qa4,cxd4,Qxa7,d3,Nd2,Rhf8,Nc4,Qa6,Qxa6,bxa6,Ne5,Rd5,Nc6,Kb7,Nb4,Rd6,Rad1,d2,Rf2,Rfd8,Nc2,Ng4,Re2,Kb6,h3,Nf6,Nd4,Nd5,Nxe6,Re8,Nd4', 'Rxe2,Nxe2,Ne3', 'https://lichess.org/training/I6FeI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i6G4t', 'Rapid', 'jeffreyjgong', 1762, 'utkarsh_24', 1717, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,c5,Be2,Nc6,c3,Bd6,Ne5,cxd4,cxd4,Bb4+,Nd2,Nxe5,Bxe5,Ne4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/i6G4t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I6H4W', 'Blitz', 'NihadAjk', 1649, 'f4lc0nd3w', 1746, 'e4,c5,Bc4,e6,Nf3,Nf6,d3,d5,exd5,exd5,Bb3,Be7,a3,Nc6,O-O,O-O,h3,Be6,Nc3,h6,Ba2,Qc7,Re1,a6,Bd2,b5,Ne2,c4,dxc4,dxc4,Ned4,Rad8,Nxe6,fxe6,Rxe6,Bc5,Qe2,Nd5,Ne5,Nd4,Qe4,Nxe6,Nxc4,Bxf2+,Kh1,Nc5,Qg6,bxc4,Bxc4,Rf6,Qg4,Kh8,Rf1,Ne4,Qxe4,Nf4,Rxf2,Nxh3,Rxf6,gxf6,gxh3,Rxd2', 'Qe8+,Kg7,Qg8#', 'https://lichess.org/training/I6H4W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i6LsH', 'Rapid', 'pinipon', 1612, 'PUTRANUGROHO', 1650, 'e4,e5,Bc4,Nc6,Nc3,d6,h3,Nf6,d3,Be7,Nf3,O-O,Be3,a6,a3,b5,Ba2,Rb8,Nd5,Nxd5,Bxd5,Bb7,Ba2,a5,d4,b4,axb4,Nxb4,Bb1,Ra8,c3,Nc6,dxe5,dxe5,Qc2,Re8,O-O,Bf6,Rd1,Qe7,Qb3,Ba6,Ba2,Be2,Rd2,Bxf3,gxf3,Bh4,Rad1,Rab8,Qc4,Nd8,Rd7,Qf6,b4,Qxf3,R1d5,Qxh3,Qxc7,Ne6,Qc6,Qg4+,Kf1,Qxe4,b5,Rbc8,Qd6,h6,Rxe5,Qh1+,Ke2,Rxc3,Bxe6,Rc2+,Kd3,Qd1+,Ke4,Qxd6', 'Bxf7+,Kh7,Rxd6', 'https://lichess.org/training/i6LsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I6mfS', 'Bullet', 'Giman_WGM', 1774, 'Antchessplayer', 1780, 'e4,e6,d4,d6,Nc3,b6,Bd3,Bb7,Nf3,Be7,h3,Nf6,Be3,O-O,a3,Nbd7,Qe2,Re8,O-O-O,a5,g4,c5,g5,Nh5,d5,e5,Nxe5,Nxe5,Qxh5,c4,Be2,Ba6,f4,Ng6,a4,b5,axb5,Bb7,Bxc4,Qc7,Bb3,a4,Nxa4,Qa5,Bd2,Qxb5,f5,Rxa4,Bxa4,Qxa4,Bc3,Nf4,Qf3,Bxg5,b3,Qa3+,Kb1,Ra8,Rhg1,Bh6,Rxg7+,Kf8,Rxh7', 'Qa2+,Kc1,Nd3#', 'https://lichess.org/training/I6mfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i6qAv', 'Classical', 'valona', 1701, 'ramesh_padamati', 1671, 'e4,e5,Nf3,Nc6,Nc3,Bb4,a3,Bxc3,dxc3,h6,Bc4,Nf6,O-O,O-O,Re1,d6,Be3,Re8,Bd3,Bg4,h3,Bxf3,Qxf3,d5,Qg3,dxe4,Bxh6,Nh5,Qg4,g6,Bxe4,Nf6,Qg3,Nxe4,Rxe4,Qd5,Rg4,Re6,h4,Ne7,h5', 'Nf5,Qd3,Qxd3,cxd3,Nxh6', 'https://lichess.org/training/i6qAv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i6te1', 'Rapid', 'Bigrudy', 1623, 'ehsan333', 1720, 'e4,e6,Bc4,d5,Bb3,c5,exd5,exd5,Qf3,Nf6,d3,Be6,Bg5,Be7,Ba4+,Bd7,Bxd7+,Qxd7,Ne2,Nc6,Nbc3,d4,Bxf6,Bxf6,Ne4,Be7,O-O-O,O-O,Nf4,Nb4,a3,Qa4,axb4,cxb4,b3,Qa2,Nd5,Rac8,Qe2,Rfe8,f3,Bg5+,f4,Bh6,g3,Rc5,Nxb4,Rxe4', 'Qxe4,Qa1+,Kd2,Qc3+,Ke2', 'https://lichess.org/training/i6te1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i6Tf7', 'Blitz', 'nizamokmen', 1810, 'salgadao', 1836, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Be3,Be7,Qd2,Bd7,O-O,Nc6,h3,O-O,f4,e5,Nxc6,Bxc6,Bd5,Nxd5,exd5,exf4,Bxf4,Bd7,Ne4,Bb5,Rf3,Qb6+,Kh1,Rad8,b3,Bd7,Bg5,Bxg5,Qxg5,Qd4,Re1,f6,Qh4,Qxd5,Rd3,Qa5,Nxd6,Bc6,Qc4+,Kh8,b4,Qh5,Re7,h6,Nf7+,Rxf7,Rxd8+,Kh7,Qxf7', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/i6Tf7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I6U74', 'Classical', 'testaccount42', 1654, 'Henri_9743986', 1662, 'h3,Nf6,d4,d5,Nc3,e6,Bg5,Be7,Bxf6,Bxf6,e4,dxe4,Nxe4,Be7,Nf3,O-O,Bd3,Nd7,O-O,Nf6,Re1,b6,c3,Bb7,Qc2,Nxe4,Bxe4,Bxe4,Rxe4,Qd5,Re5,Qc4,Rh5,g6,b3,Qc6,Ne5,Qe8,Rh6,Bf6,h4,Bg7,Ng4,Bxh6', 'Nf6+,Kg7,Nxe8+', 'https://lichess.org/training/I6U74');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I6Xbr', 'Rapid', 'alba21', 1760, 'Pindapoy71', 1788, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Bb4,a3,Bxc3,dxc3,Nf6,Nd2,d5,exd5,Nxd5,Qf3,Be6,O-O,Qf6', 'Bxd5,Bxd5,Qxd5', 'https://lichess.org/training/I6Xbr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I6Xne', 'Rapid', 'El_Hamster_Espacial', 1768, 'vega2019', 1767, 'e4,c5,Nf3,Nc6,Bb5,Nd4,Ba4,b5,c3', 'Nxf3+,Qxf3,bxa4', 'https://lichess.org/training/I6Xne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i6XnI', 'Classical', 'Mertens', 1749, 'nenadnesa', 1678, 'd4,d5,Nf3,Bg4,Nbd2,Nc6,h3,Bxf3,Nxf3,e6,Bf4,Bd6,Bxd6,cxd6,e3,Nf6,a3,Ne4,Bb5', 'Qa5+,Nd2,Qxb5', 'https://lichess.org/training/i6XnI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i70jZ', 'Rapid', 'MS19', 2181, 'dcremisi', 2310, 'e3,e5,d4,exd4,exd4,d5,c4,Nf6,Nc3,Bb4,Nf3,O-O,Be3,Nc6,Be2,Bg4,O-O,dxc4,Bxc4,Qd7,h3,Bh5,Be2,Rad8,Qb3,Rfe8,d5,Nxd5,Rfd1,Bxc3,bxc3,Qe6', 'Ng5,Bxe2,Nxe6', 'https://lichess.org/training/i70jZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i70RA', 'Blitz', 'mohammad_hassani', 1513, 'abuelo25', 1551, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Nc6,d4,Bg4,c3,e5,Be2,O-O-O,O-O,exd4,Nxd4,Bxe2,Qxe2,Nxd4,cxd4,Qxd4,Be3,Qd3,Qg4+,f5,Qa4,Qa6,Qc2,g6,Rac1,Bd6,Bc5,Bxc5,Qxc5,Rd7,Qe5,Rhd8,Rc3,Qxa2,Rfc1,Qd5', 'Rxc7+,Rxc7,Qxc7#', 'https://lichess.org/training/i70RA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7aag', 'Rapid', 'OSkAR722021', 2103, 'Dongguk', 2033, 'e4,g6,d4,Bg7,f4,d6,Nf3,a6,a4,Nd7,Bc4,Ngf6,e5,dxe5,dxe5,Ne4,Qd5,e6,Qxe4,O-O,O-O,Nc5,Qd4,Qe7,Be3,b6,b4,Nd7,c3,Bb7,Nbd2,c5,bxc5,bxc5,Qd3,Rad8,Qe2,a5,Bb5,Nb6,Qf2,Nd5,Bxc5,Qc7,Bxf8,Bxf8,c4,Nxf4,Rad1', 'Bc5,Kh1,Bxf2', 'https://lichess.org/training/I7aag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7aHP', 'Rapid', 'daigh', 1896, 'Ferboro', 1961, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,Bxd4,Nxd4,Nxd4,c3,Nc6,Bg5,h6,Bh4,g5,Bg3,Nxe4,Re1,Nxg3,fxg3,d6,Qh5,Rf8,Na3,Qf6,Rf1,Qg6', 'Bxf7+,Qxf7,Rxf7', 'https://lichess.org/training/i7aHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7AtM', 'Rapid', 'saikhnaa', 1834, 'Madad', 1923, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Nc3,e5,Qd1,h6,Bc4,Nf6,O-O,Be7,f3,O-O,h3,Be6,Bb3,Nh5,Kh2,Bg5,Nd5,Bxd5,Bxd5,Qf6,Bxg5,Qxg5,Qc1,Qg3+,Kh1,Nf4,Qd2,Kh8,Qf2,Qg5,b3,f5,Bxb7,Rab8,Bd5,fxe4,Bxe4,d5,Bd3,Rbe8,Kh2,e4,fxe4,dxe4,Be2,Nxh3,Qxf8+,Rxf8,Rxf8+,Kh7,gxh3', 'Qe5+,Kg2,Qxa1', 'https://lichess.org/training/I7AtM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7boy', 'Classical', 'malcolmtucker', 1816, 'Bartucakmak', 1732, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Be2,O-O,Bf4,Bg4,Qd5,c6,Qd4,Nd7,Bxd6,Bxd6,Qxg4,Re8,O-O-O,Nf6,Qc4,b5,Qxc6,Rxe2,Rxd6,Qe8,Qc5', 'Ne4,Qc6,Nxd6', 'https://lichess.org/training/I7boy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7Dgs', 'Blitz', 'edronga', 2499, 'IM ENERGIE73', 2376, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,dxe5,Nf5,Qxd8+,Kxd8,h3,Ke8,Nc3,a5,Bf4,Ne7,Rfe1,h5,Rad1,Bf5,Nd4,Be6,Nxe6,fxe6,Ne4,Nd5,Bc1,b5,Ng5,Rh6,b3,b4,Rd4,Be7,Rc4,Kd7,Rd1,Rhh8,c3,Rhf8,Nxe6,Kxe6,Rxc6+,Kd7', 'Rg6,bxc3,Rxd5+', 'https://lichess.org/training/i7Dgs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7EcZ', 'Rapid', 'THTKING', 1608, 'Berlingo20096', 1634, 'd4,g6,Nf3,Bg7,g3,c6,Bg2,d6,O-O,Be6,Re1,Qc8,b3,Bh3,Bb2,Bxg2,Kxg2,h5,Nbd2,Qg4,h3,Qd7,e4,Na6,Rb1,Nf6,e5,dxe5,dxe5,O-O-O,exf6,exf6,c4,Bh6,Nf1,Qf5,Qe2,Rhe8,Nd4,Rxe2,Nxf5,Rxe1,Rxe1,gxf5,Bxf6,Rg8,f4,h4,Bxh4,Bxf4,Re7,Rg7,Bf6,Rg6,Rxf7,Bc7,Rf8+,Kd7,Rf7+', 'Ke6,Rxc7,Nxc7', 'https://lichess.org/training/I7EcZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7eM7', 'Blitz', 'McCustom', 2041, 'EdneyFreire', 2055, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bc4,O-O,a4,Be6,Qd3,Re8,O-O,Qc7,Re1,Nd7,Bd2,Nb6,Bxe6,Rxe6,a5,Nd5,c4,Nf4,Bxf4,Bxf4,Rxe6,fxe6,g3,Bd6,Re1,Re8,c5,Bf8,Qb3,Kf7,Nd2,Qd7,Re2,Rb8,Nf3,a6,h4,Qd5,Re3,Qxb3,Rxb3,Be7,Kg2,Bd8,Ra3,Bc7,b4,g6,Re3,Rd8,Kf1,Rd5,Ke2,e5,Kd3,exd4,Nxd4', 'Be5,Re4,f5,Rxe5,Rxe5', 'https://lichess.org/training/I7eM7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7fxK', 'Rapid', 'fayez2000', 2046, 'RolandT', 2030, 'e4,c5,f4,Nc6,Nf3,e6,Bc4,d6,O-O,Bd7,d4,cxd4,Nxd4,Nf6,e5,dxe5,fxe5,Nxe5,Bb3,Bc5,c3,Qb6,Kh1,O-O-O,Be3,Neg4,Bg1,h5,Na3,Qc7,Nc4,e5,Nf3,Bc6,Bxc5,Rxd1,Raxd1,Bxf3,gxf3,e4,Bd6,Qc6,fxg4', 'e3+,Kg1,e2', 'https://lichess.org/training/i7fxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7IBB', 'Rapid', 'nantek1955', 1660, 'VadVansky', 1635, 'b4,e5,Bb2,e4,e3,d5,a4,c6,Ne2,Bxb4', 'Bxg7,Nf6,Bxh8', 'https://lichess.org/training/I7IBB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7JIM', 'Classical', 'Vijay_Vk', 2112, 'ihatemylife123', 2059, 'Nf3,d5,g3,c6,Bg2,Nf6,O-O,Bg4,d3,h5,h3,Bxf3,Bxf3,a5,Bg5,Nbd7,Nd2,e6,Re1,Bb4,c3,Be7,e4,dxe4,dxe4,Ne5,Qe2,Nxf3+,Nxf3,Nd7,h4,Bxg5,Nxg5,e5,Rad1,Qf6,Qc4,b5,Qxf7+,Qxf7,Nxf7,Rf8,Ng5,Ke7,Rd2,Rad8,Red1,Nc5,Rxd8,Rxd8,Rxd8,Kxd8,b4,axb4,cxb4,Nd3,Ne6+,Kd7,Nxg7,Nxb4,Nxh5,Nxa2,Kf1,Nc3,f3', 'b4,Ke1,b3,Kd2,b2,Kxc3,b1=Q', 'https://lichess.org/training/i7JIM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7JJ4', 'Rapid', 'gambitocordobes', 1981, 'cochren777', 1904, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bd3,Nf6,c3,g6,O-O,Bf5,Bxf5,gxf5,Bf4,e6,Re1,Bd6,Ne5,Qc7,b4,a6,a4,Ne4,f3,Nf6,Nd2,Rg8,Nf1,Bxe5,dxe5,Nd7,Ng3,f6,exf6,e5,Qxd5,O-O-O,f7,Rg6,Bc1,Ne7,Qb3,f4,Ne4,Nf5,b5,Qb6+,Kh1,Nc5,Nxc5,Qxc5,Ba3,Qf2,Qc4+,Kb8,Qf1', 'Ng3+,hxg3,Rh6#', 'https://lichess.org/training/i7JJ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7LiV', 'Classical', 'mir40BG', 1844, 'acecalamity', 1867, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,d6,h3,Ne5,Bb3,Nf6,O-O,Nxe4,Re1,f5,d3,Nc5,Bxf4,Nxb3,axb3,Be7,Bxe5,dxe5,Nxe5,Qd4+,Kh1,Qxb2,Nd2,Bd7,Ndc4,Qd4,Qh5+,g6,Nxg6,hxg6,Qxg6+,Kf8,Ne5,Qd5,Ra5,Rxh3+,Kg1,Qd4+,Kf1,Rh1+,Ke2,Rxe1+,Kxe1,Bb4+,Kf1,Qf4+,Kg1,Qc1+,Kh2,Qf4+,Kh3,Qe3+,Kh2,Qf4+,Kh3,Qe3+,Kh2,Qf4+,Kh1,Qh4+,Kg1,Qe7', 'Nxd7+,Qxd7,Rxf5+,Qxf5,Qxf5+', 'https://lichess.org/training/i7LiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7nAt', 'Classical', 'montyidiots', 1781, 'WalrusBees', 1672, 'e4,c5,Nf3,d6,c3,Nf6,d4,Nxe4,Qd3,Nf6,dxc5,dxc5,Qxd8+,Kxd8,Bc4,e6,Bg5,Be7,O-O,Nbd7,Rd1,a6,Ne5,Ke8,Nd3,b5,Bxb5,axb5,Na3,c4,Nxb5,Rb8,Nc7+,Kd8,Bf4,Rb7,Ne5,Rf8,Na6,Rxb2', 'Nc6+,Ke8,Nc7#', 'https://lichess.org/training/I7nAt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7NMx', 'Rapid', 'isaaceinstien', 1699, 'ScHlAuPeLz', 1654, 'e4,e6,d4,d5,Nc3,c5,Bb5+,Nc6,exd5,exd5,Nf3,a6,Bxc6+,bxc6,dxc5,Bxc5,O-O,Ne7,Re1,O-O,Be3,Bd6,Na4,Bd7,Nc5,Qc7,c3,Bg4,h3,Bf5,Bd4,Ng6,g4,Bd7,Nxd7,Qxd7,Ne5,Nxe5,Bxe5,Bxe5,Rxe5,Rfe8,Rxe8+,Rxe8,Qf3,a5,Rd1,Qb7,b3,Qb5,Qf5,Qe2,Rd4,Qe6,Qd3,Qe1+,Kg2,Qe2,a4,Re3', 'Qxe3,Qxe3,fxe3', 'https://lichess.org/training/i7NMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7PVo', 'Blitz', 'MartynL1', 1932, 'elgambitomemero', 1964, 'd4,Nf6,d5,g6,c4,Bg7,Nc3,d6,e4,O-O,Bf4,c6,h3,cxd5,cxd5,Nbd7,Nf3,Nc5,Nd2,Qb6,Qc2,Bd7,a4,a5,Be3,Qc7,Rc1,Rac8,Bxc5,Qxc5,Bd3,Rc7,O-O,Rfc8,Qb3,Ne8,Ne2,Qb4,Rxc7,Rxc7,Qxb4,axb4,b3,Nf6,Rc1', 'Rxc1+,Nxc1,Bh6,Nc4,Bxc1', 'https://lichess.org/training/i7PVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7sCg', 'Classical', 'dadmoni', 1912, 'CapitanGZ', 1879, 'e4,c5,Nf3,d6,c3,Nf6,Be2,Nc6,d3,g6,O-O,Bg7,Nbd2,O-O,d4,b6,d5,Nb8,c4,Nbd7,Bd3,a6,h3,Rb8,Nh2,b5,Rb1,Qa5,a3,Ne5,b4,cxb4,axb4,Qb6,Be2,Qd4,Bb2,Qb6,Bxe5,dxe5,c5,Qc7,Nhf3,a5,Qc1,axb4,Rxb4,Qa5,Qb1,Nd7,c6,Nc5,Rxb5,Rxb5,Qxb5,Qc3,Qb1,Bh6,Rc1,Qa3,Nc4', 'Qxc1+,Qxc1,Bxc1', 'https://lichess.org/training/i7sCg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7sp7', 'Rapid', 'rawrzich', 1791, 'bpbpbpbpbpbp', 1776, 'c4,e5,Nc3,Nf6,g3,d5,Bg2,d4,Ne4,b6,e3,Bb7', 'Nxf6+,gxf6,Bxb7', 'https://lichess.org/training/i7sp7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7Tyj', 'Rapid', 'ssimonyancz', 1898, 'H_Paranoia', 1899, 'd4,c6,c4,d5,e3,e5,cxd5,exd4,exd4,cxd5,Bb5+,Nc6,Qe2+,Be6,Nf3,Nf6,Ng5,a6,Nxe6,fxe6,Qxe6+,Qe7,Qxe7+,Bxe7,Bxc6+,bxc6,O-O,O-O,h3,Bb4,Be3,Rab8,a3,Bd6,b4,a5,bxa5,Ra8,Nd2,Rxa5,Nb3,Rxa3,Nc5,Bxc5,dxc5,Rfa8,Rab1,Nd7,Rb7,R3a7,Rfb1,Kf7,g4,Ke6,Kg2,Ke5,Kg3,Ke4,R7b4+,Ke5,Bf4+,Ke6,Re1+,Kf7,Bd6,Ra3+,f3,Nf6,Rf4,Kg6,Re6,Re8', 'Rfxf6+,gxf6,Rxe8', 'https://lichess.org/training/I7Tyj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7UiX', 'Blitz', 'IM MeneerMandje', 2580, 'syrik', 2124, 'Nf3,Nf6,g4,Nxg4,Rg1,Nf6,d4,d5,c4,Bf5,cxd5,Qd6,Nc3,Nxd5,Qb3,Nxc3,bxc3,Qb6,Ne5,Qxb3,axb3,Nd7,Nc4,a6,Bf4,O-O-O,e3,f6,b4,e5,Bg3,exd4,exd4,Re8+,Kd2,g6,b5,Bh6+,f4,g5,bxa6,bxa6,Rxa6,gxf4,Bf2,f3+,Be3,Bxe3+,Nxe3,Be4,Bb5,Bb7,Ra7,Kb8,Rxb7+,Kxb7,Bxd7,Re7,Bg4,Rhe8,Bxf3+,Kb8,Nd5,Rf7,Rb1+,Kc8,Nf4,Kd7,Bc6+,Kxc6,Kd3,Rfe7,d5+,Kd6,Kd2,Re3,Ra1,Rf3,Ra6+,Ke5,Nd3+,Ke4,Nc5+,Kf4,Nb3,Rf2+,Kd3,Re3+,Kc4,Rff3,Nd4,Rxc3+,Kb4,Rfd3', 'Ne2+,Kf5,Nxc3', 'https://lichess.org/training/I7UiX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7VMt', 'Rapid', 'DANIEL60', 1630, 'LowestRatedPlayer', 1641, 'e4,e5,Bc4,d6,d3,Be6,Bxe6,fxe6,Nf3,Nf6,Bg5,h6,Bh4,g5,Bg3,g4,Nh4,Rg8,h3,Be7,hxg4,Nxg4,Nd2,Nd7,Ndf3,Ndf6,Qe2,Qd7,c3,O-O-O,a3,Nh5,c4,Rdf8,b4,Qd8,a4,Nxg3,fxg3,Bg5,Nxg5,Rxg5,Nf3,Rg6,Rh3,Qd7,b5,Nf6,Nh4,Rg4,Nf3,Rfg8,Qf2,Qg7,a5,Rxg3,Nh4,Rxh3,gxh3,Qg1+,Qf1,Nh7,Nf3,Qe3+,Qe2,Rg1+,Nxg1,Qxg1+,Qf1,Qe3+,Kd1,Ng5,Ra2,Nf3,Qe2', 'Qg1+,Kc2,Nd4+', 'https://lichess.org/training/i7VMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7wZ5', 'Blitz', 'veky', 1571, 'Humsterchess', 1557, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Bd7,a4,Bxb5,axb5,a6,bxa6,Rxa6,Rxa6,Nxa6,O-O,Qc7,d4,cxd4,Nxd4,Nb4,c3,Nc6,Nxc6,bxc6,Qa4,Be7,Qa8+,Bd8,Bg5,f6,exf6,Nxf6,Bxf6,gxf6,f4,O-O,Rf3,Be7,Qa4,c5,Rg3+,Kh8,f5,e5,Qg4,Bd6,Rh3,Rg8,Qh4,d4,Qxf6+,Rg7,cxd4,cxd4,Na3,Bxa3,bxa3,Qc1+,Kf2,Qc2+,Ke1,Qc1+,Ke2,Qc2+,Ke1,Qc1+,Kf2,Qd2+,Kf3', 'Qxg2#', 'https://lichess.org/training/I7wZ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7XGw', 'Classical', 'RGOTSOO', 1700, 'make2702', 1863, 'Nf3,b6,d4,d5,c4,dxc4,e4,b5,a4,c6,Nc3,Ba6,axb5,cxb5,Ne5,e6,d5,Nf6,Bf4,Bb4,Be2,Bxc3+,bxc3,Nxe4,Bf3,exd5,O-O,O-O,Re1,Nxc3,Qc2,b4,Ng4,Bb7,Be5,Nb5,Qd2,a5,Bxg7,Kxg7', 'Qh6+,Kg8,Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/I7XGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7XSQ', 'Rapid', 'Kuznetsov_Daniil', 1942, 'setareh9202', 1850, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,a6,Ba4,Nf6,Bc2,O-O,O-O,h6,Re1,Nh7,d4,exd4,cxd4,Bb6,d5,Ne7,Nc3,Ng6,Nd4,Ng5,Bxg5,Qxg5,Nf3,Qe7,Na4,Ba7,Qd3,Nh4,Nxh4,Qxh4,e5,g6,g3,Qg5,h4,Qg4,Kg2,d6,e6,fxe6,f3,Qf5,dxe6,Bxe6', 'Rxe6,Qxd3,Bxd3', 'https://lichess.org/training/i7XSQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i7zAJ', 'Blitz', 'Vitts', 1650, 'NikeStale', 2108, 'd4,e6,c4,d5,Nf3,Be7,Bf4,Nf6,e3,O-O,Nc3,c5,Bd3,Nc6,O-O,cxd4,exd4,b6,Qd2,Bb7,Bg5,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/i7zAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I7ZfE', 'Blitz', 'aaaa_8', 1835, 'baloo28', 1864, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,h3,h6,Nc3,c6,Be3,Be6,Ne5,Nbd7,f4,Qc7,f5,Nxe5,dxe5,Bxe5,fxe6,fxe6,Be2,c5,Qc1,d4,Nb5,Qb6,Bf2,a6,Na3,Bb8,Nc4,Qc7,g3,Ne4,Be1,Nxg3,Rxf8+,Kxf8,Qd2,Ne4,Qd3', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/I7ZfE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i80Zh', 'Classical', 'LARODASH2013', 1785, 'Konstanti', 1681, 'e4,e5,Bc4,Nf6,Nc3,Bc5,d3,Nc6,Bg5,O-O,Nd5,Be7,Bxf6,Bxf6,c3,d6,h3,Be6,Ne3,Re8,Ne2,a6,O-O,b5,Bd5,Bxd5,Nxd5,Na5,Ng3,c6,Ne3,d5,f3,dxe4,fxe4,Qe7,Nef5,Qc5+,Kh1,g6,Nh6+,Kg7,Ng4,Re6,b4,Qxc3,bxa5,Qxa5,Nxf6,Rxf6,Rxf6,Kxf6,Qf3+,Kg7,Rf1,Rf8,Qf6+,Kg8,Qxe5,Qxa2,Qc5,Qe6,d4,a5,e5,a4,Rf6,Qc4,Qxc4,bxc4,Rxc6,a3,Rxc4,Ra8,Rc1,Kf8,Ra1,Ke7,Kg1,Ke6,Kf2,Kd5,Ne2,Kc4,Ra2,Kb4,Ke3,Rc8,Kd3,Kb3,Ra1,Kb2,Rd1,a2,Rd2+,Kb1,Nc3+', 'Rxc3+,Kxc3,a1=Q+', 'https://lichess.org/training/i80Zh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i8bjT', 'Rapid', 'lemm13', 1754, 'Abo_Zainab', 1766, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,Nc3,O-O,O-O-O,c5,Qd3,h6,Bh4,a6,a3,b5,Ba2,Bb7,Bxf6,Bxf6,Qxd6,Bg5+,f4', 'Qxd6,Rxd6,Bxf4+', 'https://lichess.org/training/i8bjT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I8dPi', 'Blitz', 'Stormy-ChessWorld', 1924, 'Sofronov_Andrey', 2023, 'd4,e6,e3,d5,Nf3,Nf6,Bd3,c5,c3,Nc6,Nbd2,cxd4,cxd4,Be7,a3,a6,e4,dxe4,Nxe4,b5,Be3,Bb7,Rc1,Rb8,Bf4,e5,dxe5,Nh5,Bg3,Nxg3,hxg3,h6,O-O,O-O,Qe2,Nd4,Nxd4,Qxd4,Rfd1,Qxe5,f4,Qe6,Rc7,Bxe4,Bxe4,Qb6+,Kh2,Qxc7,Bb1,Rfe8,Qe4,g6,Qf3,Bc5,Qb3,Kh7,Rd5,Re3,Qc2,Rc8,Qd1,Ba7,Rd7,Qc1,Rxf7+,Kg8,Qd7,Re7,Rxe7', 'Qg1+,Kh3,Qh1+,Kg4,Qh5#', 'https://lichess.org/training/I8dPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I8F5c', 'Rapid', 'elhachemirebai', 1747, 'Alex-K-35', 1685, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bc5,d3,O-O,Bg5,h6,Bh4,g5,Bg3,d6,Qd2,Nh7,h4,g4,Nh2,Kg7,O-O-O,a6,Bxc6,bxc6,f3,h5,fxg4,Bxg4,Nxg4,hxg4,Qe2,Qd7,h5,Bd4,Rh4,Bxc3,Rxg4+,Kh8,bxc3,Rg8,Rxg8+,Rxg8,Bh4,Qe6,c4,Rb8,Rf1', 'Qh6+,Qd2,Rb1+,Kxb1,Qxd2', 'https://lichess.org/training/I8F5c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i8I4p', 'Rapid', 'mfacundoli', 1791, 'champio', 1790, 'c4,c5,Nc3,Nc6,g3,d6,Bg2,Na5,d3,Nf6,a3,g6,b4,cxb4,axb4,Nc6,b5,Nd4,e3,Ne6,Qa4,Bd7,Bxb7', 'Nc5,Qc2,Nxb7', 'https://lichess.org/training/i8I4p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i8JkL', 'Rapid', 'levigun', 1807, 'amateurd', 1872, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,d3,d6,O-O,Be7,c3,Bf6,Qf3,dxc3,Nxc3,c6,Bg5,h6,Bxf6,Nxf6,h3,g5,Rfe1,g4,hxg4,Bxg4,Qf4,Rg8,e5,dxe5,Rxe5+,Kf8,Qxh6+,Rg7,Rae1,b5,Nxb5,cxb5,Bxb5,Kg8,Re8+,Nxe8,Rxe8+,Qxe8,Bxe8,Rxe8,Qc6,Rc8,Qb7,Rh7,f3,Be6,Qxa7,Rc1+,Kf2,Rc2+,Ke3,Rxb2,a4,Rxg2,f4,Rh3+,Kd4,Rd2,Ke5,Rdxd3,Qb8+,Kh7,a5,Rh5+,Kf6,Rxa5,Qb1,Rd5,Qh1+,Rh3,Qe4+,Rf5+,Ke7,Rh4,Kf8,Rxf4,Qg2,Kh6,Qh2+,Rh5,Qxf4+,Rg5,Qh4+,Rh5', 'Qf6+,Kh7,Qg7#', 'https://lichess.org/training/i8JkL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I8Jvx', 'Rapid', 'ENISTELALOVIC68', 1662, 'MasterChessdoom', 1685, 'e4,d5,exd5,Nf6,d6,Qxd6,d4,Nc6,Nf3,Bg4,Be2,O-O-O,Be3,Nxd4,Nxd4,Bxe2,Kxe2,Ne4,Nd2,Nxd2,Qxd2,Qa6+,Qd3,b5,Rhd1,e5,Qxb5,Qg6,Qxe5,f6,Qe6+,Kb7,Qb3+,Kc8,Nc6,Qg4+,Kf1', 'Rxd1+,Rxd1,Qxd1#', 'https://lichess.org/training/I8Jvx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i8Rb5', 'Classical', 'DesideriusVonN', 1659, 'DanBeatles', 1620, 'e4,c5,Nf3,e6,Bc4,a6,d3,Nc6,a3,Nf6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Rg8,h4,Be7,Nc3,Nh7,f4,Nxg5,hxg5,b5,Ba2,Bb7,Qh5,Nd4,O-O-O,b4,axb4,cxb4,Qh7,Rf8,g6,fxg6,Qxg6+,Rf7,Rh8+,Bf8,Rdh1,bxc3', 'Rxf8+,Kxf8,Rh8+', 'https://lichess.org/training/i8Rb5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I91RK', 'Rapid', 'ali_1340', 1626, 'kr05980598', 1711, 'e4,e5,Nf3,Nc6,Be2,Bc5,c3,Nf6,d3,O-O,O-O,d6,Nbd2,Ne8,Nb3,Bb6,a4,a5,d4,f5,exf5,Bxf5,dxe5,Nxe5,Qd5+,Kh8,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/I91RK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I96Mm', 'Rapid', 'Laylee', 1802, 'Merlin1521', 1778, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,cxd4,axb4,dxc3,bxc3,Qc7,Qd4,Nc6,Bb5,Ne7,Nf3,O-O,Qg4,Nxe5,Qg3,Qxc3+,Ke2,Nxf3,gxf3,Qxa1,Rg1,Nf5,Qg4,Qe5+,Kf1,a5,Bd3,axb4,f4,Nh6,Qh4,Nf5,Qg5,f6,Qg4,Qc7,h4,Ra1,Ke2,Nd4+,Ke3,f5,Qg5,h6,Qg6,Rf6,Qxf6,Nxc2+,Kd2,Ra2,Bb2,b3', 'Rxg7+,Qxg7,Qxg7#', 'https://lichess.org/training/I96Mm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9a5N', 'Rapid', 'roelof1', 1946, 'tuitknak', 1941, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Bc4,g6,Be3,Bg7,f3,O-O,g4,e5,Nxc6,bxc6,Qd2,d5,exd5,cxd5,Nxd5,Nxd5,Bxd5,Be6,Bxe6,Qxd2+,Bxd2,fxe6,O-O-O,Rxf3,h3,Rb8,Rde1,e4,Bc3,Bxc3,bxc3,Rxc3,Rxe4,Rbc8,Rh2,R8c6,Kb2,Kg7,Rxe6,Rxc2+,Rxc2,Rxe6,Rc7+,Kh6,Rxa7,Re3,a4,Rxh3,a5,Kg5,a6,Rh2+,Kb3,Rh1,Rb7,Kxg4,a7,Ra1', 'Rb4+,Kg3,Ra4', 'https://lichess.org/training/I9a5N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9C4p', 'Classical', 'tej09', 1682, 'EDNS4', 1683, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Ba4,Be7,c3,O-O,d4,exd4,cxd4,Bf6,Be3,Nf5,Qd3,d5,Bc2,Nb4,Qd2,Nxc2,Qxc2,Nxe3,fxe3,Bg4,Nbd2,Re8,Qd3,c6,h3,Bh5,Qf5,Bg6,Qg4,Qb6,b3,Qb4,Rad1,Qc3,Nf1,Re4,Qd7,Re7,Qg4,Rae8,Rc1,Qb2,Nh4,Be4,Nf5,h5,Nxe7+,Rxe7,Qe2,Qa3,Ng3,Bg6,Nxh5,Bxh5,Qxh5,Rxe3,Rxe3', 'Qxc1+,Kf2,Bxd4', 'https://lichess.org/training/I9C4p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9cCj', 'Blitz', 'davidferrier', 2205, 'NM chessmmaster', 2348, 'e4,c5,f4,d5,exd5,Nf6,Bb5+,Nbd7,c4,a6,Bxd7+,Bxd7,Nf3,e6,Qe2,Be7,dxe6,Bxe6,Ng5,Qd6,Nxe6,fxe6,d3,O-O-O,O-O,Qxd3,Qxe6+,Rd7,Nc3,Re8,Rd1,Qc2,Rxd7,Nxd7,Be3,Qg6,Qh3,Qc6,Nd5,Bf6,Rd1,Kb8,b3,Bd4,Bxd4,cxd4,Qxh7,Nf6,Nxf6,Qxf6,Qd3,Qxf4,Qxd4', 'Re1+,Rxe1,Qxd4+', 'https://lichess.org/training/I9cCj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9cGb', 'Blitz', 'veli8282', 1878, 'obr56', 1850, 'd4,Nf6,Bg5,Nc6,e3,d5,Bd3,Ne4,Bf4,Nd6,a3,Bf5,Bb5,a6,Bd3,Bxd3,Qxd3,e6,Nf3,Be7,Nbd2,O-O,Ne5,Nxe5,dxe5,Nc8,Nf3,c5,c3,c4,Qc2,b5,h4,f5,exf6,Bxf6,Ng5,g6,h5,Bxg5,hxg6,h6,Bxg5,Qxg5,O-O-O,Rf5,g4,Rf6,f4,Qxg6,f5,exf5,gxf5,Qxf5,Rdg1+,Kh7,Qh2,Ne7,Qc7,Qe4,Qb7,Raf8,Qd7,Rf2', 'Rxh6+,Kxh6,Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/I9cGb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9CWy', 'Rapid', 'ETAOIboiz', 1918, 'burruchaga', 2000, 'd4,Nf6,c4,e6,e3,Be7,Nc3,O-O,Nf3,b6,g3,Bb7,Bg2,d6,O-O,Nbd7,Qc2,e5,dxe5,Nxe5,Nxe5,Bxg2,Nxf7,Kxf7,Kxg2,Qd7,Ne4,Nxe4,Qxe4,Kg8,b3,Rae8,Qc2,Rf5,Bb2,Rh5,Kg1,Qh3,f4,Bf6,Bxf6,gxf6,Rae1,Re7,Qg2,Qg4,e4,h6,b4,Rg7,Rf3,a5,a3,axb4,axb4,b5,Rc1,bxc4,Rxc4,d5,Rd4,dxe4,Rxe4,Rd5,Re1,Rgd7,Rfe3,Rd1,Qa2+,Kg7,Qe2', 'Rxe1+,Qxe1,Rd1,Kf2,Rxe1', 'https://lichess.org/training/I9CWy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9E3L', 'Rapid', 'QUIKKER', 1723, 'YRKchamp', 1760, 'e4,e5,Nf3,d6,Bc4,Bg4,d4,Bxf3,Qxf3,Nf6,Bg5,Be7,dxe5,dxe5,Nc3,O-O,Rd1,Qe8,Bxf6,Bxf6,h4,g6,g4,Qc6,Bd5,Qb6,h5,Nc6,Qxf6,Nd4,Qxe5', 'Nf3+,Ke2,Nxe5', 'https://lichess.org/training/I9E3L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i9Em7', 'Blitz', 'Mangorejm', 2077, 'zeus51', 2067, 'e4,e6,d4,Be7,Nc3,d6,Be2,Nd7,Be3,Nf8,Qd2,g5,O-O-O,Ng6,g3,a6,f4,gxf4,gxf4,b5,Nf3,b4,Na4,Nf6,e5,Nd5,c4,bxc3,Nxc3,Nxe3,Qxe3,Bb7,Rhg1,Bxf3,Bxf3,Rb8,Bc6+,Kf8,f5,exf5,Qh6+,Kg8,Bd5,dxe5,Rxg6+,hxg6', 'Qxg6+,Kf8,Qxf7#', 'https://lichess.org/training/i9Em7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9emu', 'Rapid', 'Man-Eiviem_86', 1820, 'Nonkers1', 1777, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,h6,Be2,d5,exd5,Nxd5,O-O,Bd6,Re1,O-O,c4,Nf6,Nc3,a6,a4,Nd4,Be3,Ne6,Qd2,Ng4,h3,Nxe3,Qxe3,Re8,Nd5,Nf4,Nxf4,exf4,Qd2,Qf6,b4,c5,bxc5,Bxc5,d4,Bd6,c5,Bc7,Bc4,Bd7,Ne5,Be6,Bxe6,Rxe6,Nd7,Qe7,Nb6,Rd8,Qc3,Qf6,Rad1,Bxb6,cxb6,Rxb6,Qc7,Rbd6,Qxb7,Rxd4,Rxd4,Qxd4,Qxa6,Qb4,Ra1,Qe4,Qb6,Re8,a5,Qe5,Qb1,Ra8,a6,Qc7,Qb7', 'Qxb7,axb7,Rxa1+,Kh2,Rb1', 'https://lichess.org/training/I9emu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9eNB', 'Rapid', 'Rodolfoxb10', 1936, 'FAELMSG', 1769, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Qc7,Bb3,Nc6,Nc3,a6,O-O,Nf6,Kh1,Be7,f4,O-O,f5,Nxd4,Qxd4,e5,Qd3,b5,a3,Bb7,Bg5,Rfd8,Bxf6,Bxf6,Nd5,Bxd5,Bxd5,Rac8,c3,Qc5,Rac1,Qa7,g4,Bg5,Rce1,Kf8,Qg3,a5,h4,Bf4,Qg2,b4,axb4,axb4,c4,Qc5,g5,Rc7,h5,Ra7,f6,Ra2,fxg7+,Kxg7,g6,hxg6,Rf3,Qd4,Re2,Ra1+,Rf1,Rxf1+,Qxf1,Qd3,h6+,Kxh6', 'Rh2+,Bxh2,Qxd3', 'https://lichess.org/training/I9eNB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9FHD', 'Rapid', 'adam_fr', 1775, 'Elinmortal', 1829, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,bxc6,d3,d6,Nc3,Qf6,Bg5,Qg6,h4,h6,h5,Qe6,Bh4,g5,hxg6,Qxg6,g3,Bg4,Qe2,Bb4,Kd2,a5,a3,Bxc3+,bxc3,f6,Qe3,Ne7,d4,Qf7,Nh2,h5,Nxg4,hxg4,f3,Ng6,fxg4,exd4,Qxd4,Ne5,Raf1,Rh6,g5,Rh5,Rxf6,Qxf6,gxf6,Nf3+,Kd3,Nxd4,Kxd4,c5+,Kc4,Kf7,g4,Re5,Kd3,Rb8,g5,Rb2,Rg1,Kg6,Rf1,Kf7', 'g6+,Kxg6,f7', 'https://lichess.org/training/I9FHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9fzG', 'Blitz', 'willydu75', 2211, 'IguanaAstronaut', 2350, 'd4,Nf6,c4,g6,Nf3,d5,Nc3,Bg7,e3,c6,cxd5,Nxd5,Bc4,e6,e4,Nxc3,bxc3,O-O,Bg5,Qa5,Qd2,c5,O-O,cxd4,cxd4,Qxd2,Bxd2,Nc6,Be3,b6,Rac1,Na5,Bb5,Bb7,Rc7,Bxe4,Rfc1,Bxf3,gxf3,Rfd8,Re7,Bf6,Rec7,Bxd4,Bg5,Rdb8,Rd7,Bc5,Ba6,Nc6,Bf4,Rd8,Rc7,Nd4,Kg2,Ne2,Bxe2,Bd6,Bxd6,Rxd6,Rc8+,Rxc8,Rxc8+,Kg7,Rc2,a5,Bb5,Kf6,a4,Ke5,Kg3,h5,Re2+,Kf6,f4,Rd4,h4,Rb4,f3,Rb1,Rd2,Rg1+,Kh2,Rc1,Rd6,Rc2+,Kg3,Rc1,Rxb6,Rg1+,Kf2,Rh1,Ra6,Rxh4,Rxa5,Rxf4,Ra8,Rb4,Be8,Rb2+,Kg3,g5,a5,Rb3,Bc6,Rc3,Bb7,Ke5,a6,f5,a7,Ra3,Bc6,Ra2,Bb7,h4+,Kh3,Kf4,Bc6', 'g4+,fxg4,fxg4+,Kxh4,Rh2#', 'https://lichess.org/training/I9fzG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9jkA', 'Rapid', 'Julispar-Alhaddad-17', 1822, 'kasparov_MC', 1967, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Be2,Nf6,Bg5,h6,Bxf6,Qxf6,O-O,O-O,Nbd2,Bg4,c3,Nd7,h3,Bh5,Re1,Rae8,Nh2,Bg6,Bf3,c6,Ndf1,Qf4,Rxe8,Rxe8,Qc1,Qf5,Bg4,Bxh2+', 'Nxh2,Qf6,Bxd7', 'https://lichess.org/training/I9jkA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9KXr', 'Classical', 'sophiaz7', 1711, 'AppSee', 1706, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,b5,Be3,e6,Qd2,Bb7,O-O-O,Nbd7,g4,Be7,h4,b4,Nce2,a5,Kb1,d5,e5,Nxe5,g5,Nh5,f4,Nd7,Rg1,a4,f5,b3,axb3,axb3,Nxb3,exf5,Ned4,g6,Bb5,O-O,Nf3,Nb6,Bd4,Ng7,Qe3,Nc4,Bxc4,dxc4,Qe5,f6,gxf6,Bxf6,Qb5,cxb3,Bxf6,bxc2+,Kxc2,Qc8+,Kb1,Be4+,Rd3,Bxd3+,Qxd3,Rxf6,Rc1,Ra1+,Kxa1,Qxc1+,Ka2,Rf8,Qd5+,Kh8,Ng5,Qg1,Nf7+,Kg8', 'Nh6+,Kh8,Qg8+,Rxg8,Nf7#', 'https://lichess.org/training/I9KXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9l9l', 'Rapid', 'AfiqHakimi_02', 1733, 'womanizer', 1696, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Nc3,d6,d4,exd4,Nxd4,Bd7,Re1,a6,Bf4,b5,Bd5,Nxd4,Bxa8,Nxc2,Qxc2,Qxa8,e5,dxe5,Bxe5,O-O,Ne4,c6,Nxf6+,Bxf6,Bxf6,gxf6,Rad1,Be6,Re3,Kh8,Rde1,Rg8,Rg3,Rg6,Rxg6,hxg6,Re4,Kg7,Re3,Bd5,b3,Qc8,Qc3,Qf5,h3,Qb1+,Kh2,Qxa2,h4,Qxb3', 'Qxb3,Bxb3,Rxb3', 'https://lichess.org/training/I9l9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i9Oaf', 'Rapid', 'megacomodin', 1764, 'felippemaia', 1846, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Bb4,O-O,Nf6,Bb5+,Kf8,Re1,Qb6+,Kh1,Bxc3,dxc3,Qxb5', 'Qd8+,Qe8,Rxe8+', 'https://lichess.org/training/i9Oaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i9p9b', 'Blitz', 'purplegirl', 2141, 'FM DiegoMarianoBelmonte', 2252, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Nc6,Bf4,Bg4,Qb3,Qd7,Nd2,Rc8,Ngf3,a6,O-O,e6,Ne5,Nxe5,Bxe5,Be7,Rae1,O-O,Qc2,Bh5,Bxf6,Bxf6,Bxh7+,Kh8,h3,g6,g4,Bxg4,hxg4,Kxh7,Nf3,Qd6,Ne5,Kg7,f4,Rh8,Kg2,Rh4,Rh1,Rch8,Rxh4,Rxh4,Qf2,Rh8,g5,Bxe5,fxe5,Qe7,Qf6+,Qxf6,gxf6+,Kf8,c4,dxc4,Rc1,b5,b3,Ke8,bxc4,bxc4,Rxc4,Kd7,Rb4,Rc8,Rb7+,Rc7,Rb6,Rc6,Rb7+,Rc7,Rb8,Kc6,Re8,Rd7,Re7', 'Rxe7,fxe7,Kd7,e8=Q+,Kxe8', 'https://lichess.org/training/i9p9b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9Po5', 'Classical', 'd2min', 1856, 'Pat_2020', 1712, 'd4,g6,e4,d5,e5,Nc6,h3,e6,Nf3,h6,c3,f6,exf6,Qxf6,Bd3,e5,dxe5,Nxe5,Nxe5,Qxe5+,Be3,Bf5,O-O,O-O-O,Na3,Bd6,g3,Ne7,Bf4,Qf6,Bxd6,Qxd6,Bxf5+,Nxf5,Nb5,Qb6,Nd4,Qxb2,Nxf5,gxf5,Qf3,Rhf8,Rfb1,Qd2,Rb3,f4,Rab1,fxg3,Qg4+,Kb8', 'Rxb7+,Ka8,Rxa7+,Kxa7,Qa4#', 'https://lichess.org/training/I9Po5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9q7Q', 'Blitz', 'tiva1383', 1693, 'GIONSINA', 1597, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,e6,Bxc6,bxc6,d3,Ne7,O-O,O-O,Rb1,d5,Qe1,Ba6,exd5,cxd5,Qg3,Rb8,Bd2,Qc7,Nh4,Nf5,Nxf5,gxf5,Na4,Kh8,Bc3,d4,Bd2,Bb5,b3,Rg8,Nb2,Bc6,Rf2,Be5,Qh3,Bd6,Nc4,Rg6,c3,Rbg8,g3,f6,cxd4,cxd4,Na5,e5,Rc1,Qd7,Nxc6,exf4,Bxf4,Bxf4,Rxf4,Qg7,Nxd4,Qd7,Nxf5,Qxd3,Qxh7+,Kxh7', 'Rh4+,Rh6,Rxh6#', 'https://lichess.org/training/I9q7Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i9Vbo', 'Rapid', 'alx6', 1625, 'catmyledy', 1742, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nf3,Be7,Nc3,a6,Bc4,Be6,Bb3,h6,Bxe6,fxe6,Be3,Nf6,h3,O-O,g4,Nh7,Nh2,Bg5,Qe2,Bxe3,Qxe3,Nc6,O-O-O,Nd4,Rhf1,b5,f4,b4,fxe5,dxe5,Ne2,Rxf1,Nxf1,Qb6,Nxd4,exd4,Rxd4,Qb5,Nd2,Rf8,Qb3,Ng5,Rxb4,Rf1+,Nxf1,Qxf1+,Kd2,Nf3+,Kc3', 'Qe1+,Kc4,Nd2+,Kd3,Nxb3', 'https://lichess.org/training/i9Vbo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9Vn7', 'Blitz', 'enti', 2033, 'Whiplash_33', 2021, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,Nf3,Bg7,h3,O-O,Bd3,b5,Bxb5,Nxe4,Nxe4,Qa5+,Nfd2,Qxb5,Nxd6,Qa6,N2c4,Rd8,Qe2,Nd7,Qe7,Bf6,Qxf7+,Kh8,Bh6,Bd4,Ne8,Qxc4', 'Bg7+,Bxg7,Qxg7#', 'https://lichess.org/training/I9Vn7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i9wFI', 'Classical', 'd3d1', 1729, 'WhitneyL', 1656, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,O-O,f3,Na6,a3,e5,d5,Nc5,b4,Ncd7,Qd2,Ne8,Nge2,f5,Bh6', 'Qh4+,g3,Qxh6', 'https://lichess.org/training/i9wFI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('i9YEx', 'Rapid', 'Milann', 2043, 'RAHiii', 2032, 'd4,d5,c4,dxc4,Nc3,Nc6,d5,Ne5,f4,Ng6,e4,e5,f5,Nf4,Nf3,Bd6,Bxc4,Nf6,Bxf4,exf4,O-O,O-O,e5,Bc5+,Kh1,Ng4,Nd4,Bxd4,Qxd4,Bxf5,Qxf4,Bc8,h3,Nh6,Ne4,Nf5,Rad1,Qe8,g4,Nh4,Bd3,Ng6,Qg3,Qxe5,Qxe5,Nxe5,Bc2,h6,Kg2,Bd7,Nc5,Bb5,Rf2,Ng6,Nxb7,Rab8,Nc5,Rbd8,Bxg6,fxg6,Rxf8+,Rxf8,Nd3,Rd8,Nf4,g5,Ne6,Rxd5', 'Rxd5,Bc6,Nxc7', 'https://lichess.org/training/i9YEx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('I9ZCN', 'Rapid', 'Danichivas', 1848, 'megakeyrum', 1843, 'e4,c5,Nf3,Nc6,d3,Nf6,h3,e5,Bg5,h6,Be3,Qb6,b3,d5,exd5,Nxd5,Bd2,Bd6,Nc3,Be6,Nxd5,Bxd5,Be2,O-O,c4,Be6,O-O,Nd4,Nxd4,cxd4,Rc1,Bc5,Bf3,a5,Re1,Qc7,Ra1,Bd6,a3,Bd7,Bg4,f5,Bf3,Rfe8,Bd5+,Kh8,Qh5,Rf8,Bxh6,Bc6,Bxg7+,Kxg7,Qg5+,Kh8', 'Qh6+,Qh7,Qxd6', 'https://lichess.org/training/I9ZCN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iA07B', 'Rapid', 'kuskov', 1607, 'zhbz', 1660, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Be2,O-O,Qd2,d5,Nxc6,bxc6,O-O-O,Nxe4,Nxe4,Rb8,b3,Bf5,Ng3,Qd6,Nxf5', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/iA07B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IA8WG', 'Rapid', 'elifa', 2092, 'MichalPolak', 1980, 'd4,Nf6,Nf3,d6,c4,Nbd7,Nc3,e5,e3,Be7,Bd3,O-O,O-O,Re8,Qc2,h6,e4,exd4,Nxd4,Nc5,Be2,Bf8,f3,Be7,Nd1,Ne6,Nf5,Nc5,Nde3,Bxf5,Nxf5,Bf8,b4,Ne6,Bb2,g6,Ne3,Bg7,Rad1,Qe7,Rfe1,c6,a3,a5,Rd2,Nf4,Bf1,axb4,axb4,d5,Bxf6,Bxf6,cxd5,Qxb4,dxc6,bxc6,Red1,Qb6,Kf2,Ra3,Re1,Bc3,g3,Bxd2,Qxd2,Rd8,Qc2,Nd3+,Bxd3,Rdxd3,Qc1,c5,Nc4,Rxf3+,Kg2,Qb3,Nxa3,Qxa3,Qxa3,Rxa3,Rc1,Ra2+,Kf3,Rxh2,Rxc5,Kg7,Rc7,Rh5,Kf4,Ra5,e5,Ra4+,Kf3,Ra3+,Kf4,g5+,Kg4,Re3,Rc5,Kg6,Rc6+,Kg7,Rc5,Kh7,Rd5,Re4+,Kf5,Re1,Rd7,Rf1+,Kg4,Kg6,Rd6+,f6,exf6,Rxf6,Rd8,h5+,Kh3,g4+,Kg2,Kf5,Rd5+,Kg6,Rd8,Kg5,Rg8+,Kf5,Rh8,Kg5,Rg8+,Rg6,Rd8,Kf6,Rh8,Rg5,Rf8+,Ke5,Re8+,Kd6,Rd8+,Ke7,Ra8,Re5,Ra7+,Kf6,Ra8,Re2+,Kf1,Re3,Kg2,Re2+,Kf1,Rb2,Rh8,Kg5,Rg8+,Kf5,Rh8,Ke4,Rxh5', 'Kf3,Rf5+,Kxg3', 'https://lichess.org/training/IA8WG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ia9g9', 'Blitz', 'martinz', 1739, 'babutsa', 1780, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Bc4,Nxe4,Nxe4,d5,Bxd5,Qxd5,Nc3,Qa5,O-O,Bg4,d3,Bb4,Bd2,Nd4,Re1,O-O-O,a3,Bxc3,Bxc3,Qb6,Bxd4,exd4,Rb1,Rhe8,Re4,Rxe4,dxe4,Re8,Qd3,Qf6,Nxd4,Qg6,f3,Bh3,Qe2,Rd8,c3,c5,Nb3,b6,Nd2,Re8,Kf1,Be6,Qa6+,Kb8,Qe2,f5,Qf2,fxe4,Nxe4,Rf8,Rd1,Bf5,Rd6,Qe8,Qg3,Kb7,Qxg7+,Ka6,Nxc5+,Kb5,Nb3,Rf7,Nd4+,Ka6,Qg3,Bd3+,Kg1', 'Qe3+,Qf2,Qc1+,Qe1,Qxe1#', 'https://lichess.org/training/Ia9g9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IaA1t', 'Blitz', 'DUSICAKUSTUDIJA', 1873, 'pertuis', 1767, 'e4,c5,Bc4,e6,Nc3,Nc6,f4,d6,Nf3,Nd4,Nxd4,cxd4,Ne2,Qb6,d3,g6,O-O,e5,f5,Be7,fxg6,hxg6,Bxf7+,Kd7,Bxg6,Nf6,Bf5+,Kc7,Bxc8,Raxc8,a4,Nxe4,dxe4,d3+,Kh1,dxe2,Qxe2,Rcg8,a5,Qc6,b4,Qc3,Bd2,Qg3,h3,Kb8,Rf3,Qg6,Raf1,Bh4,b5,Bg3,b6,a6,Qc4,Bf4,R3f2,Qg3,Bxf4,exf4,Qc7+,Ka8,Qxd6', 'Rxh3+,gxh3,Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/IaA1t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iaAb1', 'Rapid', 'Britos777', 1878, 'askruglov', 1695, 'c4,c5,Nc3,e6,g3,a6,Bg2,g6,Nf3,Bg7,O-O,Ne7,b3,O-O,Bb2,Nbc6,Na4,d6,Bxg7,Kxg7,d4,b5,cxb5,axb5,Nc3,Ba6,Ng5,Qc7,dxc5,dxc5,Qc2,Nb4,Qb2,e5,Bxa8,Rxa8,a3,Nbc6,Nf3,Bb7,Nxb5,Qc8,Nxe5,Kg8,Rac1,Nxe5,Qxe5,Qc6,f3,Qxb5,Qxe7,Qxb3,Rxc5,Qxa3,Rfc1,Qa7,Kg2', 'Bxf3+,exf3,Qxe7', 'https://lichess.org/training/iaAb1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IaAS0', 'Blitz', 'Alex_Lukin', 1715, 'MaliNeca94', 1735, 'e4,e5,Nc3,Nf6,f4,d6,Nf3,Bg4,h3,Bxf3,Qxf3,Nc6,Bb5,Qd7,d3,a6,Bxc6,Qxc6,fxe5,dxe5,Be3,Bb4,Bd2,O-O,a3,Ba5,O-O,Bb6+,Be3,Bd4,Bxd4,exd4,Nd5,Nxd5,exd5,Qxc2,Rab1,Rae8,d6,cxd6,Qxb7,Re2,Rbc1,Qxb2', 'Qxf7+,Rxf7,Rc8+,Re8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/IaAS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IaBDC', 'Rapid', 'WhiteChess2011', 1609, 'Aloe78', 1600, 'd4,d5,c4,c6,Nf3,Bg4,e3,Nf6,Be2,Bxf3,Bxf3,e6,cxd5,exd5,O-O,Bd6,Nc3,Nbd7,Re1,O-O,Qb3,Rb8,e4,dxe4,Bxe4,Bc7,Bg5,Nb6,Rad1,Qd6,g3,Rbe8,Bxf6,Qxf6,d5,Nxd5,Nxd5,cxd5,Qxd5,Qxb2,Qd7,Bb6,Rd2,Qf6', 'Bxh7+,Kxh7,Rxe8,Rxe8,Qxe8', 'https://lichess.org/training/IaBDC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iABlT', 'Rapid', 'Lampi0n', 1996, 'TheRaveN17', 2019, 'd4,Nf6,c4,e6,g3,c5,d5,exd5,cxd5,d6,Bg2,Bf5,Nf3,h6,O-O,Be7,Nc3,O-O,Re1,Bh7,b3,a6,Bb2,Nbd7,Nd2,Re8,e4,Bf8,Nc4,Nb6,Qf3,Nbd7,Re2,b5,Nd2,b4,Nd1,Ne5,Qe3', 'Nfg4,Qf4,g5', 'https://lichess.org/training/iABlT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IAdaH', 'Rapid', 'aorlandi', 1972, 'CLSmith15', 1945, 'e4,c5,c3,Nc6,d4,d5,e5,Bf5,Nf3,h6,Be2,e6,O-O,cxd4,cxd4,Nge7,Qb3,Qc7,Be3,Rc8,Nbd2,Bh7,Rac1,Nf5,Bb5,Nxe3,fxe3,a6,Bxc6+,bxc6,Qa4,Qb6,Nb3,Bd3,Rfd1,Bb5,Qa5,Qxa5,Nxa5,Rc7,Nb3,Ba4,Rd3,Bxb3,Rxb3,Be7,Rb8+,Bd8,Rb6,Kd7,Rxa6,Be7,a3,c5,Kf2,Rb8,Rc2,Rb3,Nd2,Rb8,b3,cxd4,Rxc7+,Kxc7,Ra7+,Kd8,exd4,f6,b4,fxe5,dxe5,Rc8,b5', 'Bc5+,Ke1,Bxa7', 'https://lichess.org/training/IAdaH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iAdn9', 'Rapid', 'pipouille', 1862, 'lj_viking', 1874, 'd4,d5,e3,Bf5,Bd3,Bxd3,Qxd3,Nf6,Nf3,e6,Nbd2,c6,O-O,Bd6,c3,O-O,e4,Qc7,e5,Bxe5,Nxe5,Nbd7,Nxd7,Qxd7,Nf3,Qd6,Ne5,Nh5,g3,Nf6,Bg5,Ne4,Bf4,f6,Ng6,e5,Nxf8,exf4,Nxh7,fxg3,hxg3,Kxh7,Kg2,Kg8,Rh1,f5,Rh3,f4,Rah1,Kf7,gxf4,Rf8,f3,Qg6+,Kf1', 'Ng3+,Kg2,Qxd3', 'https://lichess.org/training/iAdn9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iaez3', 'Rapid', 'Chessssss08', 1752, 'Gary_Blackwood', 1853, 'e4,c5,f4,d6,Nf3,Nf6,Nc3,Nc6,Bc4,a6,a4,Bg4,O-O,e6,h3,Bxf3,Rxf3,Be7,f5,Nd4,Rg3,O-O,fxe6,fxe6,d3,d5,exd5,exd5,Ba2,Qd6,Rg5,b5,Nxd5,c4,Nxe7+,Qxe7,dxc4,Ne2+,Kh1,Nxc1,Rxc1,bxc4,Bxc4+,Kh8,b3', 'Ne4,Rd5,Nf2+', 'https://lichess.org/training/Iaez3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iAf2t', 'Rapid', 'Gary1002', 2070, 'Prophiscient', 1810, 'd4,c6,Nf3,d5,Bf4,Bf5,e3,e6,c4,Nf6,Nc3,Ne4,Qb3,Qb6,c5,Qxb3,axb3,Nd7,b4,Be7,b5,O-O,Be2,Ndf6,O-O,Nh5,Bc7,Rfc8,b6,axb6,Bxb6,Nxc3,bxc3,Nf6,c4,Ne4,Rfc1,Bg4,cxd5,exd5,h3,Bxf3,Bxf3,Nd2,Bg4,Rf8,Rxa8,Rxa8,Rc2', 'Ra1+,Kh2,Nf1+', 'https://lichess.org/training/iAf2t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iafBf', 'Rapid', 'ruslya007', 1694, 'KINGOFRUBIES', 1706, 'd4,Nf6,Nf3,d5,Nbd2,c5,c4,Nc6,dxc5,e5,cxd5,Nxd5,Ne4,Bf5,Nd6+,Bxd6,cxd6,Qxd6,e3,Ncb4,Qa4+,Qc6', 'Bb5,O-O,Bxc6', 'https://lichess.org/training/iafBf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iAfG5', 'Blitz', 'AktaSkolmatten', 1983, 'IM copperpot', 2083, 'e4,d6,Nc3,Nc6,Nf3,e5,Bb5,Bg4,d4,exd4,Bxc6+,bxc6,Qxd4,Nf6,Bg5,Be7,h3,Be6,O-O-O,h6,Bf4,O-O,g4,Nd7,Qd2,Bf6,g5,hxg5,Nxg5,Bc4,h4,Nc5,b3,Qb8,h5,Qb4,Nb1,Qb6,h6,Rfb8,hxg7,Bxb3,Rh8+,Kxg7,Rh7+,Kg8,axb3,Nxb3+,cxb3,Qxb3,Qc2,Qb4,Bd2', 'Bb2+,Qxb2,Qxb2#', 'https://lichess.org/training/iAfG5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iaFlX', 'Rapid', 'helplessly', 1977, 'mhn_chess2012', 2078, 'e4,b6,d4,Bb7,Nf3,Bxe4,Bd3,Bxd3,Qxd3,e6,O-O,Nf6,Re1,Be7,Nc3,O-O,d5,Nxd5,Nxd5,exd5,Qxd5,c6,Qe5,Bf6,Qd6,Na6,Qa3,Nc5,Be3,Ne6,Rad1,d5,b3,c5,c4,d4,Qc1,Qc8,Bf4,Nxf4,Qxf4,Re8,Rxe8+,Qxe8,g3,Qc6,h4,Re8,Nd2,Qe6,Nf3,Be5,Qe4,f6,Re1,Qd6,Nd2,f5,Qxf5,g6,Qe4,Re7,Qa8+,Kg7,Ne4,Qd7,Ng5,Bxg3', 'Rxe7+,Qxe7,fxg3', 'https://lichess.org/training/iaFlX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IAFQK', 'Rapid', 'Satya123', 2067, 'jugando90', 2145, 'b3,e5,Bb2,Nc6,d3,d6,Nd2,Nf6,g3,Be7,Bg2,O-O,e4,b6,Ne2,Bb7,O-O,Re8,h3,a5,a4,Nb4,f4,exf4,Nxf4,d5,e5,Nd7,e6,Nf6,exf7+,Kxf7,Nh5,Kg8,Nxf6+,Bxf6,Bxf6,gxf6,Qg4+,Kh8,Qf4,Nxc2,Rac1,Ne3,Rfe1,Nxg2,Rxe8+,Qxe8,Qxf6+,Kg8,Kxg2,Qe2+,Qf2,d4+,Kg1,Qxf2+,Kxf2,c5,Nc4,Rf8+,Ke2,Re8+,Kd2,Bf3,Re1,Rb8,Ne5,Bd5,Nd7,Rb7', 'Nf6+,Kf8,Nxd5', 'https://lichess.org/training/IAFQK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iAh49', 'Blitz', 'IM Danilo22', 2468, 'Kaagitanbesao', 2150, 'e4,h6,d4,g5,Nc3,Bg7,h4,d6,Be3,Nc6,Qd2,gxh4,Nf3,h3,g3,h2,Rxh2,e6,Bb5,a6,Ba4,b5,Bb3,Na5,Ne2,Nxb3,axb3,Bb7,Qd3,Rc8,Nf4,Nf6,Nd2,c5,c3,cxd4,cxd4,Ng4,Rh4,Nxe3,fxe3,Bf6,Rh3,Qc7,Nh5,Bg5,Ke2,Qc2,Rb1,Qxd3+,Kxd3,Ke7,Rf1,Rc7,g4,Rhc8,Rhf3,Ke8', 'Ng7+,Kf8,Nxe6+', 'https://lichess.org/training/iAh49');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IaHYf', 'Classical', 'SwimToMate', 1686, 'Bexwell', 1718, 'c4,Nf6,Nc3,e5,e4,Nc6,Nf3,Bc5,a3,O-O,b4,Be7,b5,Nd4,Nxe5,d6,Nf3,Bg4,h3,Bxf3,gxf3,Re8,Nd5,c6,bxc6,bxc6,Nxe7+,Rxe7,Bb2,Qb6,Rb1,c5,Bxd4,Qc6,Bxf6,gxf6,Rg1+,Kh8,Qc2,f5,Qc3+,Re5,Rg5,f6,Rxf5,Rxe4+,fxe4', 'Qxe4+,Qe3,Qxb1+,Ke2,Qxf5', 'https://lichess.org/training/IaHYf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IAi9x', 'Rapid', 'Vivat650', 2165, 'adinsx', 2106, 'e4,c6,d3,d5,Nd2,g6,Ngf3,Bg7,g3,e5,Bg2,Ne7,O-O,O-O,a4,a5,Re1,d4,Nc4,b5,axb5,cxb5,Ncxe5,f6,Nxg6,Nxg6,Bd2,Bb7,h4,Ne5,Nh2,Nbd7,f4,Nc6,Qg4,Qe8,Qf5,b4,Bf3,Ne7,Qe6+,Kh8,Bg4,Nc5,Qb6,Qc6,Qxc6,Nxc6,h5,Bc8,Bf3,Ra6,Be2,Ra7,g4,Ba6,Nf3,b3,c4,dxc3,Bxc3,Nxd3,Bxd3,Bxd3,Kg2,Re8,h6,Bxh6,g5,Bf8,gxf6,Kg8,Ng5,h6,f7+,Rxf7,Nxf7,Kxf7,e5,Ra8,Kg3,Bf5,Red1,a4,Rd2,Bb4,Bxb4,Nxb4,Rd4,Nc2,Rdxa4,Rxa4,Rxa4,Ne3,Ra6,Nd1', 'Rf6+,Kg7,Rxf5', 'https://lichess.org/training/IAi9x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IAIaN', 'Rapid', 'Eslameraqi100', 1797, 'lefff', 1790, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Nc6,Nc3,Bb4,Bxf7+,Kxf7,Nf3,d6,O-O,Nf6,Nd5,h6,Nxb4,Nxb4,Qb3+,Kg6,Qxb4,Re8,Rfe1,Bg4,Nh4+,Kh7,h3,Bh5,Qd4,Re5,Qd3,Ng8,Bxe5,Qxh4,Bg3,Qe7,e5+,Bg6,exd6', 'Qxe1+,Rxe1,Bxd3', 'https://lichess.org/training/IAIaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IaiHr', 'Rapid', 'Schaakfanaat', 1898, 'Signoretomato', 1822, 'Nf3,c5,g3,Nc6,Bg2,e6,O-O,d5,d4,Nf6,e3,Be7,b3,O-O,Bb2,Ne4,Nbd2,Nxd2,Qxd2,Bf6,c3,b6,Rad1,Bb7,c4,dxc4,bxc4,Ba6,Qc3,Nb4,Ne5,Nxa2,Qa3,Nb4,dxc5,Qc7,Nd7,Bxb2,Qxb4,Bf6,Nxf6+,gxf6,Bxa8,Rxa8,cxb6,axb6,Ra1,Bb7,Rxa8+,Bxa8,Rc1,Qc6,Kf1', 'Qh1+,Ke2,Qxc1', 'https://lichess.org/training/IaiHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IAik6', 'Rapid', 'Kaerdo2', 2294, 'LucidChess', 2365, 'e4,c6,d4,d5,e5,Bf5,Be3,e6,Nd2,c5,Ngf3,Nc6,Bb5,cxd4,Nxd4,Ne7,Bg5,Qb6,Bxe7,Bxe7,Nxf5,exf5,Qe2,O-O,Bxc6,bxc6,Rb1,Rfe8,O-O,Bf8,Rfe1,g6,c4,Bg7,Nf3,Rad8,Rbd1,d4,Rd3,c5,h4,h6,Qc2,Qc7,h5,Bxe5,Nxe5,Rxe5,Rxe5,Qxe5,hxg6,fxg6,Qd2,Kg7,Rh3,g5,Ra3,Rd7,Rd3,Qe4,b4,cxb4,c5,a5,Qc2,Qd5,c6,Rc7,Qb2,Qxc6,Qxd4+,Qf6,Qd5,a4,Qb5,b3,axb3,axb3,Qxb3,Rc1+,Rd1,Rxd1+,Qxd1,Kg6,Qd5,Kh5,Qf3+,g4,Qa8,Qg5,g3,Qg6', 'Qh1+,Kg5,Qh4#', 'https://lichess.org/training/IAik6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iAIpU', 'Blitz', 'GM iamstraw', 2681, 'GM CakeinSpace', 2671, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,c5,Rb1,O-O,Be2,cxd4,cxd4,Qa5+,Bd2,Qxa2,O-O,Nc6,Be3,Bg4,d5,Ne5,Rxb7,a5,Rxe7,a4,Re1,Nxf3+,gxf3,Bh3,d6,a3,e5,Qb2,Bc4,a2,Rxf7,Kh8,Rxf8+,Rxf8,Bd4,Qa3,e6,Qb4,e7,Ra8,Bxg7+,Kxg7,Qd4+,Kh6,Qe3+,g5,e8=Q,a1=Q,Qf8+', 'Rxf8,Rxa1,Qxc4', 'https://lichess.org/training/iAIpU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iaj03', 'Classical', 'Maximilian13', 1656, 'rolaraozborboa', 1672, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,Nf3,O-O,e3,a6,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,Nd2,Nbd7,Qc2,h6,Bxf6,Nxf6,O-O,c5,dxc5,Bxc5,Rad1,Qc7,Nde4,Nxe4,Bxe4,Bxe4,Nxe4,Bb6,Qxc7,Bxc7,Rd7,Rac8,Nd6,Bxd6,Rxd6,Ra8,Rc1,Rfc8,Rcc6,Rxc6,Rxc6,Kf8,Kf1,Ke7,Ke2,Kd7,Rb6', 'Kc7,Rxe6,fxe6', 'https://lichess.org/training/Iaj03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iajKo', 'Rapid', 'Sanrink09', 1635, 'ebesic313', 1609, 'e4,e5,Nf3,Qf6,Bc4,Bc5,d3,h6,Nc3,c6,a3,Ne7,b4,Bd4,Bb2,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,e4,dxe4', 'Bxc3,Bxc3,Qxc3', 'https://lichess.org/training/iajKo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iaK3I', 'Rapid', 'aajjppff', 1980, 'MYKYTA777', 1803, 'c4,b5,cxb5,a6,Nc3,g6,g3,Bb7,Nf3,Bg7,bxa6,Nxa6,Bg2,Nb4,a3,Nd5,O-O,Nxc3,dxc3,Nf6,Qb3,Rb8,Qa2,Bd5,c4,Be6,Nd4,O-O,Nxe6,dxe6,Bf4,Nh5,Rfd1,Qc8,Be3', 'Rxb2,Qxb2,Bxb2', 'https://lichess.org/training/iaK3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IAK4u', 'Rapid', 'Methuselah969', 1798, 'lhsxlsh123', 1790, 'd4,Nf6,Bf4,d5,Nf3,Nc6,c4,e6,cxd5,Nxd5,Bg3,Bd6,Nc3,Bxg3,hxg3,Nxc3,bxc3,O-O,Qd3,h6,Rb1,b6,e4,Ne7,e5,f6,exf6,Rxf6,Ng5,Ng6,Nf3,Qd5,Qc2,Qf5,Bd3,Qg4,Be4,Rb8,Rb5,Bb7,Nh2', 'Qxe4+,Qxe4,Bxe4', 'https://lichess.org/training/IAK4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IAle3', 'Rapid', 'Alisayed2003', 2014, 'OssamaAzaaz', 1724, 'e4,c5,Nc3,d6,Nge2,Nc6,g3,Nf6,Bg2,e6,O-O,Be7,d3,O-O,h3,a6,Be3,b5,f4,b4,Nb1,d5,g4,h6,Ng3,e5,g5,hxg5,fxg5,Nh7,exd5,Bxg5,Bxc5,Be7,Bxe7,Nxe7,d6,Nc6,Bxc6,Qb6+,Kh2,Qxc6,Ne4,Qd7,Qf3,Bb7,Qg3,Bxe4,dxe4,Qxd6,Rg1,Qf6,Nd2,Rac8,Rac1,Rfd8,Nf3,Nf8,Nxe5,Rd2+,Kh1,Rcxc2,Rxc2,Rxc2,Ng4,Qg6,Qe3,Qd6', 'Nh6+,Qxh6,Qxh6', 'https://lichess.org/training/IAle3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iAlGb', 'Rapid', 'BlackSlon', 2116, 'fogof', 2134, 'd4,Nf6,c4,c5,e3,cxd4,exd4,g6,Nc3,Bg7,Nf3,O-O,Be2,d5,O-O,dxc4,Bxc4,Bg4,Bf4,Nc6,h3,Bxf3,Qxf3,Qxd4,Bb3,Qb4,Nd5,Nxd5,Bxd5,Rac8,a3,Qb5,Rad1,e6,Bxc6,Qxc6,Qe2,Qc4,Qf3,b5,Rd7,a5,Bd6,Bxb2,Re1,Qc6,Qxc6,Rxc6,Bxf8,Kxf8,Rb7,Rc5,Re3,Bd4,Rd3,e5,g4,f5,gxf5,gxf5,Rf3,f4,h4,h5,Kg2,Ke8,Ra7,b4,axb4,axb4,Rb7,Bc3,Rd3,e4,Rdd7,f3+,Kh3,Re5,Rh7,Rd5,Rb8+,Rd8,Rxd8+,Kxd8,Rxh5,e3,fxe3,f2,Kg2,Be1,Rb5,Kd7,h5,Kc6,Rb8,Kc7,Rb5,Kc6,Ra5,b3,Ra3,b2,Rb3,Bc3,Kxf2,Kd5,Ke2,Kc4,Rb7', 'Bb4,h6,b1=Q', 'https://lichess.org/training/iAlGb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iaLoI', 'Rapid', 'Andrelbg', 2005, 'Hamidazahaf', 1997, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,Nbd2,Bc5,a4,a6,c3,d6,Nf1,O-O,Ng3,d5,Bb3,Be6,Bc2,Bg4,h3,Bxf3,Qxf3,dxe4,Nxe4,Nxe4,Qxe4,f5', 'Qc4+,Kh7,Qxc5', 'https://lichess.org/training/iaLoI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iaLQ0', 'Rapid', 'LewAlcindor', 1884, 'mmdzzwdp', 1729, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,e6,Qe2,Be7,O-O,Nf6,Rd1,O-O,Be3,Qa5,Rac1,Ne5,Nxe5,Qxe5,f4,Qa5,h3,Bd7,Bd2,Qb6+,Kh1,Bc6,Be3,Qc7,Nb5,Qb8,Nc3,Nxe4,Nxe4,Bxe4,Bd2,d5,Bb3,Bf6,Be3,b6,Qf2,Qd6,Ba4,Qe7,Bc6,Rab8,a3,Bh4,Qe2,Qf6,b4,Qf5,Qg4,Bf6,Qxf5,Bxf5,b5,Bb2,Kh2,Bxc1,Rxc1,Rbd8,Bd4,f6,g4,Be4,Bc3,h6,Bb4,Rf7,Kg3,Kh7,Kf2,Bg6,Kf3,d4,h4,d3,h5,d2,hxg6+,Kxg6,Rd1,Rd3+,Ke2,Rg3,Be4+,f5,gxf5+,exf5,Bc2,Rg2+,Kf3,Rh2,Kg3,Re2,Kf3,Rh2,Kg3,Re2,Bb3,Re3+,Kf2,Rxb3,Rxd2,Rb1,Rd6+,Kh7,Rd2,Rc7,Kg2,Rcc1,Re2,Rg1+,Kf2,Rg4,Ke3,Rb3+,Kd4,Rxf4+,Kd5,Rd3+,Kc6,Rc4+,Kb7,f4,Kxa7,f3,Rf2,Rg4,Kxb6,Rg2,Bc5,Rxf2,Bxf2,Rd2,Bc5,Ra2,Kc6,h5,b6,h4,b7,Rb2,Bb6,Rc2+,Kd6,f2', 'Bxf2,Rxf2,b8=Q', 'https://lichess.org/training/iaLQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IAmsZ', 'Rapid', '2700172', 1942, 'jviana', 1953, 'e4,e5,Bc4,Nf6,d3,Be7,Nc3,O-O,h3,c6,Bb3,d5,Qe2,d4,Nb1,a5,a3,Be6,Ba2,Bxa2,Rxa2,b5,b3,Nbd7,a4,Nc5,axb5,cxb5,Nf3,Bd6,Ba3,b4,Bc1,Na6,Nbd2,Nc7,Nc4,Nb5,Bd2,Bc7,Nfxe5,Bxe5,Nxe5,Rc8,Nc4,Re8,O-O,Rxc4,bxc4,Nc3,Bxc3,dxc3,Rfa1,Re5,f4,Rc5,Rb1,Nd7,Qf2,Rc8,g3,Ra8,Ra4,Qe7,Qd4,Nc5,Ra2,Ne6,Qd5,Nc7,Qb7,Qc5+,Kg2,Qe3,Qxc7,Qe2+,Kg1,Qe3+,Kf1,Qf3+,Ke1', 'Qh1+,Ke2,Qxb1', 'https://lichess.org/training/IAmsZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iaN4B', 'Rapid', 'seynac', 1960, 'Heliosheath', 1829, 'Nf3,Nf6,b3,d6,Bb2,e5,e3,Nc6,Bb5,Bd7,d4,e4,Nfd2,Qe7,c4,g6,d5,Nb4,Bxd7+,Kxd7,Nxe4,Bg7,Nxf6+,Bxf6,Bxf6,Qxf6,Na3,Qb2,Qg4+,f5,Qd4,Nd3+,Kf1', 'Qxf2#', 'https://lichess.org/training/iaN4B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IAoJe', 'Rapid', 'Daneeno', 1729, 'whitedj', 1983, 'd4,Nf6,d5,c5,c4,e6,Nc3,exd5,cxd5,d6,Nf3,g6,h3,Bg7,e4,O-O,Bg5,h6,Bh4,Qa5,Qe2,Nxe4,Qxe4,Bf5,Qf4', 'Bxc3+,bxc3,Qxc3+', 'https://lichess.org/training/IAoJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IAp2s', 'Rapid', 'Rasel225', 1779, 'jagan1', 1675, 'e4,e5,d4,exd4,Nf3,c5,c3,dxc3,Nxc3,d6,Bc4,h6,Qe2,Be6,Bf4,Be7,Rd1,Nf6,Nd5,O-O,O-O,Bxd5,Bxd5,Nxd5,Rxd5,Nc6,Rfd1,f6,Qc4,Kh8,Bxd6,Bxd6,Rxd6,Qe8,h3,Ne5,Nxe5,Qxe5,b3,b6,R6d5,Qb2,a4,Qa3,Rd7,Qb4,Qc2,Rfe8,f3,a5,Kh2,Kg8,Rb7,Rad8,Rd5,Rxd5,exd5,Rd8,Qg6,Qf4+,Kh1,Qg5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/IAp2s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iApM9', 'Rapid', 'tulgaashdee', 1763, 'lilipitu', 1748, 'e4,a6,Bc4,e6,d4,b5,Bb3,Bb7,d5,e5,Nf3,d6,O-O,Nf6,Bg5,Be7,Bxf6,Bxf6,a3,O-O,h3,Nd7,Nh2,g6,Nd2,Bg7,Rb1,Bh6,Ng4,Bxd2,Qxd2,Kg7,f4,exf4,Qxf4,h5,Qh6+,Kg8,Ne3,Nf6,e5,Ne4,e6,Qg5,Qxg5,Nxg5,Rf6,fxe6', 'Rxg6+,Kh7,Rxg5', 'https://lichess.org/training/iApM9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IaqYH', 'Rapid', 'alberchess54', 1859, 'Cory2911', 1898, 'e4,e5,Nf3,Nf6,d3,Nc6,Bg5,Be7,Be2,d5,Nc3,d4,Bxf6,Bxf6,Nd5,O-O,Nxf6+,Qxf6,O-O,Qd6,Qd2,f5,Ne1,fxe4,dxe4,b6,Nd3,Bb7,f3,Ne7,Qb4,c5,Qd2,Ng6,b3,Nf4,Nxf4,Rxf4,Bc4+,Kh8,a4,a5,Qd3,Raf8,Rad1,R8f6,Rf2,Rh6,g3,Qg6,Kh1,Qxg3,Rdf1,Rfh4,Qd2,Qg6,Rg1,Qxe4,Rxg7,Rxh2+,Rxh2,Qxf3+,Kg1,Rxh2', 'Rg8#', 'https://lichess.org/training/IaqYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IatsM', 'Rapid', 'miguelfv', 1878, 'Ninovtchka', 1994, 'e4,c6,Nf3,d5,e5,c5,h3,Nc6,d3,Qc7,Bf4,e6,d4,cxd4,Nxd4,Nxd4,Qxd4,Bc5,Qd1,Ne7,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,c3,Ng6,b4,Bxb4,cxb4,Nxf4,Qf3,Ng6,Nd2,Nxe5,Qh5,Ng6,f4,Rac8,Nf3,Qb5,Ng5,h6,Nf3,Nxf4,Qg4,Qxb4,Kh1,Rc2,g3,f5,Qxf4,Qxf4,gxf4,Rfc8,Ne5,Rb2,Nf3,Rc3,Nd4,Rxh3+,Kg1,Rb4,Nxe6,g5,Kg2,Ra3,fxg5,Rg4+,Kh2,hxg5,Rxf5,Rh4+,Kg2,Rg4+,Kf2,Ra5,Rxg5+,Rxg5,Nxg5,Kg7,Nf3,Kf6,Ke3,a6,Kd4,Ke6,Ng5+,Kd6,Nh3', 'Ra4+,Kc3,Ra3+,Kd2,Rxh3', 'https://lichess.org/training/IatsM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iAvZU', 'Rapid', 'Mohsenkan', 2031, 'kentt', 1816, 'e4,d5,f4,dxe4,Nc3,Nf6,d4,exd3,Bxd3,Bg4,Nf3,e6,O-O,Nbd7,Kh1,Nc5,Qe2,Nxd3,cxd3,Bd6,Ne4,c6,f5,Nxe4,dxe4,O-O,e5,Bb8,h3,Bxf5,Bg5,Qa5,Nd4,Bg6,Be7,Re8,Bd6,Bxd6,exd6,Rad8,Rad1,Qxa2,h4,h5,Nf3,Rd7,Ne5,Rdd8,Nxg6,fxg6,Qf3,Rf8', 'Qxf8+,Rxf8,Rxf8+,Kxf8,d7', 'https://lichess.org/training/iAvZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iawqd', 'Classical', 'alokmishradr', 1709, 'downapawn', 1711, 'e4,e5,Nf3,Nf6,Bc4,Bc5,O-O,d6,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,Bg5,O-O,h3,Re8,Qf3,Be6,Bxf6,Qxf6,Qxf6,gxf6,Bd3,d5,Nd2,f5,exf5,Bd7,Nf3,f6,Rfe1,Bb4,c3,Bd6,Nd4,Be5,Nb3,Rab8,Nc5,Bc8,Rab1,Kf7,g3,h5,f4,Bd6,Rxe8', 'Bxc5+,Kg2,Kxe8', 'https://lichess.org/training/Iawqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IaX1Q', 'Classical', 'FedyaSiz', 1698, 'Arseniy_Sah', 1701, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Bc4,g6,Nge2,Bg7,Bf4,Qc6', 'Bb5,O-O,Bxc6', 'https://lichess.org/training/IaX1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iaxGV', 'Classical', 'Arlan2005', 1920, 'True_Romance', 1882, 'e4,c5,c4,e5,Nf3,d6,Be2,Nf6,d3,Be7,Nc3,O-O,O-O,Nc6,Nd5,Nxd5,cxd5,Nd4,Nxd4,cxd4,a3,f5,exf5,Rxf5,Bg4,Rf6,Bxc8,Qxc8,Qh5,Qc5,Qh4,Qxd5,f3,Re8,Bg5,Rf7,Bxe7,Rfxe7,Rac1,Qb5,b4,Qxd3,Rc8,Qxa3', 'Qxe7,Rxc8,Qe6+', 'https://lichess.org/training/iaxGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IayIC', 'Classical', 'K4b3zon', 1995, 'DiegoCal91', 1832, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,O-O,a6,Bxc6+,bxc6,d4,exd4,Nxd4,Bb7,Bg5,c5,Nf5,g6,e5,dxe5', 'Qxd8+,Rxd8,Bxf6', 'https://lichess.org/training/IayIC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iAytP', 'Rapid', 'Piptik', 1633, 'mikidj78', 1607, 'b3,e5,e3,d5,Bb2,f5,Bxe5,Nc6,Bb5,Bd7,Bb2,Bd6,Bxg7,Qe7,Bxh8,Nf6,Bxf6,Qxf6,Nc3,O-O-O,Nf3,Re8,O-O,Rg8,d4,h5,a3,h4,h3,Qg6,Nxh4,Qg5,g3,Bxg3,Ng2', 'Bh2+,Kh1,Qxg2#', 'https://lichess.org/training/iAytP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iAyzd', 'Classical', 'Louping575', 1780, 'mwange', 1734, 'e4,c5,Nc3,d6,f4,Nc6,Bb5,a6,Bxc6+,bxc6,d4,cxd4,Qxd4,e6,Nf3,Nf6,O-O,Be7,Qf2,O-O,Qg3,Qb6+,Kh1,Bb7,e5,Nd5,Nxd5,cxd5,Ng5,h6,Nf3,Qb5,Be3,Rac8,Nd4,Qd7,f5,dxe5,Bxh6,Bf6,fxe6', 'fxe6,Rxf6,Rxf6', 'https://lichess.org/training/iAyzd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iazwx', 'Blitz', 'KolinM', 1656, 'PauL-EL', 1649, 'e4,d5,exd5,Qxd5,Nf3,c6,d4,Nf6,c4,Qd6,Nc3,Bg4,Be2,e6,Bg5,Nbd7,O-O,Qb4,Qd2,Bxf3,Bxf3,Qxc4,a3,h6,Bh4,g5,Bg3,Bg7,Rfd1,O-O-O,Ne4,Nxe4,Bxe4,Nf6,Qa5,Rd7,Qxa7,Kd8,Qb6+,Ke7,Rac1,Qa4,Qc5+,Ke8,Bc2,Qb5,Qxb5,cxb5,Bb1,Nh5,Rc8+,Rd8,Rxd8+,Kxd8,Be5,Ke7,Bxg7,Nxg7,Be4,b6,Bd3,Rd8,Bxb5,e5,d5,Nf5,g3,Nd4,Bc4,b5,Ba2,Nf3+,Kg2,Nd4,b4,Ra8,Rd3,Ra4,Re3,f6,Rd3,Nc2,d6+,Kd7,Bb3', 'Ne1+,Kf1,Nxd3,Bxa4,bxa4', 'https://lichess.org/training/iazwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iB0E2', 'Rapid', 'MaratIkramov', 1917, 'FxKn', 1917, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,e5,Nxc6,bxc6,Bd3,Be6,O-O,Nf6,f4,exf4,Bxf4,Be7,e5,dxe5,Bxe5,O-O,Qf3,Rc8,Rad1,Nd5,Nxd5,Bxd5,Qg3,g6,c4,Bh4,Qf4,Bg5,Qg3,Bh4,Qe3,Bg5,Bf4,Re8', 'Bxg5,Rxe3,Bxd8', 'https://lichess.org/training/iB0E2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IB3n8', 'Rapid', 'Hell-On-Earth', 1966, 'Boro-i-Ramiz', 1989, 'e4,d6,d4,c6,Nf3,Bg4,Be2,h6,O-O,h5,h3,Bd7,c4,Qc8,h4,Nf6,e5,Ng4,Bf4,d5,Re1,e6,a3,Be7,Ng5,f6,Bxg4,hxg4,exf6,gxf6,Nh7,Rxh7,Qxg4,Rf7,Qg6,e5,dxe5,Bf5,Qh5,Be4,f3,Qf5,Qh8+,Rf8,fxe4,Qxf4,Qh5+,Kd8,exd5,fxe5,Nc3,Nd7,dxc6,bxc6,Rad1,Kc7,Qh7,Rf7,Qd3,Bc5+,Kh1,Qxh4+,Qh3,Qxh3+,gxh3,Rf3,Ne4,Rxh3+,Kg2,Rb3', 'Rxd7+,Kxd7,Nxc5+,Kd6,Nxb3', 'https://lichess.org/training/IB3n8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IB5bm', 'Rapid', 'alecxandr', 1876, 'InspireChess', 1860, 'e4,d5,e5,c5,f4,Nc6,Bb5,Bf5,Bxc6+,bxc6,Nf3,f6,O-O,fxe5,Nxe5,Qd6,d3,g6,b3,Bg7,Bb2,Nf6,Nd2,Nd7,Ndf3,Bg4,Qe1,Bxf3,Rxf3,d4,Nxd7,Kxd7,Qe2,e5,fxe5,Bxe5,h3,Raf8,Raf1,Re8,Kh1,h5,Rf7+,Re7,Rxe7+,Qxe7,Bc1,g5,Qe4,g4,Qf5+,Kd6,Bf4,gxh3,gxh3,Bxf4,Qxf4+,Qe5,Qf6+,Qxf6,Rxf6+,Ke5,Rxc6,Kf4,Rxc5,Kg3,h4,Re8,Rg5+,Kxh4,Rg2,Kh3,Kg1', 'Re1+,Kf2,Re2+,Kxe2,Kxg2,b4,h4', 'https://lichess.org/training/IB5bm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iB5si', 'Blitz', 'Liwenliang', 1820, 'Miami305chess', 2006, 'e4,Nf6,Nc3,e5,g3,d6,Bg2,Nc6,Nge2,Bd7,h3,Be7,O-O,O-O,d3,Nd4,Nxd4,exd4,Ne2,c5,f4,Bc6,g4,h6,Ng3,Nh7,Nf5,Bf6,Qf3,Re8,Qg3,c4,h4,cxd3,cxd3,d5,g5,hxg5,hxg5,Be7,e5,Bf8,Kf2,g6,Nh4,Qc7,Bd2,Bg7,Rac1,Qb6,b3,Qb5,Rh1,Nf8,Qh3,Bd7,Qf3,Be6,f5,gxf5,Nxf5,Ng6,Nxg7,Kxg7,Qf6+,Kf8,Rc7,Qxd3', 'Rh8+,Nxh8,Qxh8#', 'https://lichess.org/training/iB5si');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ib8gx', 'Blitz', 'Graufy', 1566, 'Niels_H', 1662, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,Nf3,Nge7,Bf4,Ng6,Bg3,h5,O-O,h4,Bd6,Bxd6,Qxd6,h3,gxh3,Rxh3,Be2,Nh4,Nb5,Nxf3+,Bxf3,Qg5+,Kh1,Qxb5,Rg1,g6,Bg4,Rh7,a4,Qxb2,Rad1,a5,Bxe6,fxe6,Rxg6,Rh8,Rdg1,Ne7,Rg7,Qf6,e5,Qh4,R1g2,Nf5', 'Rg8+,Rxg8,Rxg8+,Kf7,Qf8#', 'https://lichess.org/training/ib8gx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ib9cz', 'Rapid', 'Balhash1972a', 1732, 'Anomanderake', 1724, 'e4,c5,Nf3,e6,d4,cxd4,Qxd4,Nc6,Qd1,Bc5,Nc3,Nf6,Bd3,O-O,O-O,Qc7,a3,Nd4,Nxd4,Bxd4,Nb5,Qc5,b4,Qb6,c4,Bxa1,c5,Qd8,Bg5,a6,Nd6,Be5,f4,Bxd6,cxd6,h6,Bh4,b5,e5,Bb7,exf6,g6,Qg4,Kh7,Bg5,Rh8,Bxh6,Kg8,Bxg6,Rxh6,Bxf7+,Kxf7', 'Qg7+,Ke8,f7#', 'https://lichess.org/training/ib9cz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ibbgq', 'Classical', 'nassargad', 1962, 'rrrrrst', 2016, 'e4,d6,Nf3,Nf6,Nc3,g6,Bc4,Bg7,d3,O-O,h3,c5,Bg5,a6,a4,Nc6,Qd2,Na5,Ba2,Bd7,Nd5,Nxd5,Bxd5,Bxb2,Rb1,Bg7,Bh6,Rb8,Bxg7,Kxg7,h4,Rh8,Ng5,e6,Ba2,h6,Qc3+,Kg8', 'Qxh8+,Kxh8,Nxf7+,Kg8,Nxd8', 'https://lichess.org/training/Ibbgq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iBBlQ', 'Rapid', 'Twaki', 1916, 'Bars72', 2045, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,c4,Nbd2,Na5,g3,Bd7,Bg2,Ne7,O-O,Ng6,Qc2,Be7,Re1,h5,h4,O-O-O,Nf1,Nb3,Rb1,Ba4,Qe2,Rde8,Ng5,Rhf8,Qxh5,Rh8,Qg4,Ref8,Bxd5,Nxc1,Rexc1,Qc7,Bxe6+,Kb8,Bxf7,Bxg5,Bxg6,Bxc1,Rxc1,Bc6,Ne3,Rh6,Be4,Bxe4,Qxe4,g5,Ng4,Rhh8,hxg5,Rh5,Nf6,Rh3,Qf5,Rfh8,Kg2,Rh2+,Kf3,Qc6+,Qe4,Qe6,d5,Qh3,Qg4,Qg2+,Kf4,Qxf2+,Qf3', 'Qd2+,Kg4,Qxc1', 'https://lichess.org/training/iBBlQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IBcO9', 'Blitz', 'chess_challengers', 1859, 'reynaldozen', 1884, 'e4,e5,Nf3,Bd6,d4,exd4,Nxd4,Nf6,Bd3,O-O,f4,c6,e5,Re8,O-O,Bc5,c3,Nd5,Kh1,d6,Nf3,dxe5,fxe5,Bg4,h3,Bxf3,Qxf3,f6,Qh5,Rxe5,Qxh7+,Kf7,Bg6+,Kf8,Nd2,Ne3,Rxf6+', 'Qxf6,Qh8+,Ke7,Qe8+,Kd6,Ne4+,Rxe4', 'https://lichess.org/training/IBcO9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ibeLg', 'Rapid', 'bin16tan', 1677, 'arakos100', 1722, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,b3,O-O,Bb2,Nc6,e3,e5,d5,Nb4,e4,Bg4,Be2,Na6,O-O,Nc5,Ba3,Nh5,h3,Bxf3,Bxf3,Nf4,Bc1,Nfd3,Be3,f5,exf5,Rxf5,Bxc5,Nxc5,Rc1,Qg5,Ne4,Nxe4,Bxe4,Rf4,Bf3,Raf8,Bg4,h5,Be6+,Kh8,Rc2,Rf3,h4,Qxh4,gxf3,Qg5+,Kh2,Qh4+,Bh3,Qf4+,Kg2,g5,Rg1,g4,fxg4,e4,Kf1,e3,f3,Re8,Qe2,Qd4,Rc1,Rf8,Re1,Bh6,Qg2,Qd3+,Qe2,Qd4,gxh5,Qh4,Rh1,Qg3,Qg2', 'Rxf3+,Ke2,Rf2+', 'https://lichess.org/training/ibeLg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ibeYr', 'Blitz', 'Odysseus37', 2023, 'tho_wei', 1936, 'e4,e6,d3,c5,g3,Nc6,Bg2,Nf6,f4,d5,e5,Nd7,Nf3,Be7,O-O,Rb8,c3,b5,Be3,O-O,Qe1,b4,Qf2,a5,c4,d4,Bc1,Bb7,Nbd2,Qc7,g4,f5,gxf5,exf5,Nh4,Nd8,Bd5+,Kh8,Qg2,Nb6', 'Ng6+,hxg6,Qh3+,Bh4,Qxh4#', 'https://lichess.org/training/ibeYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iBfaC', 'Classical', 'Naresh110291', 1778, 'Dangerzone31', 1805, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,h6,b3,Bh7,Ne5,e6,O-O,Be7,f4,Nf6,Nxf6+,Bxf6,Bb2,Bxd3,cxd3,O-O,Qh5,Nd7,Rf3,Nxe5,fxe5,Bg5,h4,g6,Qg4,Bxh4,Raf1,Qe7,Bd4,b6,Be3,Kg7,Bxh6+,Kxh6,Rh3,g5,Rf6+,Kg7,Rxh4,Qc5+,d4,Qc1+,Kh2,Qxd2,Qh5,gxh4,Qg4+,Kh7,Qxh4+,Kg7,Qg4+,Kh7,Qh4+,Kg7,Rf4,f5,Qg5+,Kf7,Qf6+,Ke8,Qxe6+,Kd8,Qd6+,Ke8,Qxc6+,Kf7,Rxf5+,Kg8,Qe6+,Kh7,Qe7+,Kg8', 'Rg5+,Qxg5,Qxg5+', 'https://lichess.org/training/iBfaC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IBFN8', 'Blitz', 'Chuckweseke', 2025, 'Stefan1965', 2169, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Nbd7,e3,c6,Bd3,Be7,Nf3,O-O,O-O,Re8,Rb1,a5,a3,Ne4,Bxe7,Qxe7,Qc2,Ndf6,Ne5,h6,f3,Nxc3,bxc3,Nd7,Nxd7,Qxd7,e4,dxe4,fxe4,Qc7,Rf2,Be6,c4,Rac8,d5,cxd5,exd5,Bd7,Rbf1,Rf8,Qd2,Rce8,Qc3,Qc5,Kh1,b6,Bc2,Qe3,Qb2,Qxf2,Bh7+,Kxh7,Qxf2,Re7,Qxb6,Rfe8,h3,a4,Qd6,Bc8,c5,Re1,Rxe1,Rxe1+,Kh2,Re2,c6,Bf5,Qd8,Be4,Kg3,g5,h4', 'Rxg2+,Kh3,g4#', 'https://lichess.org/training/IBFN8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IbGbW', 'Rapid', 'gohgoh', 1601, 'The_Gambit', 1635, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,Nf6,Nc3,e6,Bg5,Be7,Rad1,e5,Nxe5,dxe5,Qxe5,Qb6,b3,O-O,Qxe7,Rfe8,Qa3,Nxe4,Be3,Qc7,Nxe4,Bxe4,h3,h6,Rd4,Bc6,Qb2,Qe5,Bf4,Qf5,c3,Re4,Rxe4', 'Qxe4,f3,Qxf4', 'https://lichess.org/training/IbGbW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IbGoX', 'Blitz', 'FM shak-tank', 2478, 'zakramnika', 2563, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Be2,d5,exd5,Nxd5,O-O,Nxc3,bxc3,Be7,d4,e4,Nd2,Bf5,Rb1,Rb8,Nc4,O-O,Ne3,Bg6,f4,exf3,Bxf3,Bg5,Nc4,Bxc1,Qxc1,Qd7,Qf4,f6,Rfe1,Bxc2,Rb2,Bd3,Ne3,Rfe8,Rd2,Bg6,c4,Qd6,Bd5+,Kh8,Qf3,Qb4,Red1,Qc3,Kf2,Nb4,Nf1,Qxf3+,Bxf3,c6,Ne3,Be4,d5,Bxf3,Kxf3,cxd5,cxd5,Rbd8,d6,Rd7,h4,Kg8,h5,Kf7,g4,Nc6,Kf4,Re5,Nf5,g6,hxg6+,hxg6,Ng3,Ke6,Ne4,b6,g5,f5,Nf6,Rd8,d7,Ke7,Rc2,Re6,Rdc1,Nb4,Rc8,Nd3+,Kf3,Nxc1,Rxc1,Rxf6,gxf6+,Kxf6,Rd1,Ke6,Kf4,Rxd7,Re1+,Kf6,Rf1,g5+,Kf3,Rd5,Ke2,g4,Re1,Kg5,Kf2,Rd4,Kg2,Rf4,Re8,Rf3,Rg8+,Kf4,Rf8,Re3,Kf2,Re2+,Kxe2,g3,Kd3', 'g2,Rg8,Kf3,Rg5,f4', 'https://lichess.org/training/IbGoX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ibHVa', 'Blitz', 'Jochames', 2027, 'IM DeepRabbit', 2373, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,a3,Nh6,b4,cxd4,cxd4,Nf5,Bb2,Bd7,Be2,Rc8,O-O,Be7,g4,Nh6,h3,f6,exf6,gxf6,Nbd2,Nf7,Nb3,O-O,Nc5,Rcd8,Qd2,Bc8,Bd3,Qc7,Rfe1,e5,dxe5,fxe5,Rac1,e4,Qc3,d4,Nxd4,Nxd4,Bxe4,b6,Nb3,Qxc3,Rxc3,Bf6,Nxd4,Bxd4,Rc2,Ng5,Bg2,Bxb2,Rxb2,Nf3+,Bxf3,Rxf3,Rc2,Rxh3,Rc7,Bxg4,Ree7,Rd7', 'Rc8+,Rd8,Rxd8#', 'https://lichess.org/training/ibHVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iBjgQ', 'Rapid', 'qdrt', 1945, 'Russu-Vladislav93', 1981, 'e4,e6,f4,d5,e5,c5,c3,d4,d3,Nc6,Nf3,h6,Be2,Nge7,O-O,Nf5,Bd2,Be7,g4,Nh4,Be1,Nxf3+,Bxf3,Bd7,h3,Qb6,Qe2,dxc3,Nxc3,c4+,Kg2,cxd3,Qxd3,O-O-O,Qc2,Nd4,Qc1,Nxf3', 'Nd5+,Kb8,Nxb6', 'https://lichess.org/training/iBjgQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ibJzb', 'Rapid', 'babajoon', 1797, 'IL10000', 1953, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,c5,e3,Nc6,Nf3,d5,cxd5,exd5,a3,cxd4,exd4,Be7,Bd3,Bg4,Be3,O-O,h3,Bh5,Be2,Ne4,Nxe4,dxe4,Nd2,Bxe2,Qxe2,Nxd4,Bxd4,Qxd4,Rb1,f5,O-O,Bg5,Rfd1,Qb6,Nf1,Rad8,b4,Qe6,Qb5,a6,Qxb7,Rb8,Qd5,Qxd5,Rxd5,Rfd8,Rbd1,Rxd5,Rxd5,g6,Ne3,Bxe3,fxe3,Kf7,Kf2,Ke6,Ra5,Rb6,a4,h6,b5,axb5,Rxb5,Ra6,a5,Kf7,Ke2,h5,h4,Ke7,g3,Kd7,Rb6,Rxa5,Rxg6,Ra2+,Kf1,Ra1+,Kf2,Ra2+,Ke1,Rg2,Rg5,Ke6,Rxh5,Rxg3,Ke2,Rg2+,Kf1,Rg3,Kf2,Rf3+,Ke2,Rg3,Rh6+,Ke5,Rh8,Rg2+,Kf1,Rg3,Kf2,Rf3+,Ke2,Rg3,h5,Kf6,h6,Rg6', 'Rf8+,Ke7,h7,Kxf8,h8=Q+', 'https://lichess.org/training/ibJzb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IBk6B', 'Classical', 'Longinos076', 1789, 'Nicbhethebear', 1838, 'd4,Nf6,Nf3,e6,Bg5,d5,Nc3,Nbd7,e4,dxe4,Nxe4,Be7,Nxf6+,Nxf6,Bxf6,Bxf6,Bb5+,c6,Be2,O-O,O-O,Qe7,c3,Bd7,Bd3,g6,Re1,Rfd8,Ne5,Bxe5,Rxe5,b6,Qf3,Rac8,Rae1,c5,d5,Qd6,dxe6,Bxe6,Bb5,Bxa2,c4,Qd4,Re7,Bxc4,Bxc4,Qxc4,h4,a5,h5,Re8', 'Rxe8+,Rxe8,Rxe8+', 'https://lichess.org/training/IBk6B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IBKb3', 'Blitz', 'seammer', 1691, 'Artius', 1697, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,Nf3,Bg4,O-O,Nc6,h3,h5,Be2,O-O-O,d3,Bf5,Bd2,e6,a4,Be7,Re1,Rdg8,Ng5,Bg6,Bf3,Nd7,Bxc6,Bxg5,Bxd7+,Kxd7,Bxg5,Qxg5,a5,Bf5,Kh1,Qf6,a6,b6,Qf3,g5,Kg1,g4,hxg4,hxg4,Qf4,Qh4,Kf1,Qh1+,Ke2,Qxg2,Nb5,Qc6,c4,Rh4,Nxa7,Qa8,Nb5,Rgh8,Qxc7+,Ke8,Qxb6', 'Qf3+,Kd2,Qxd3+,Kc1,Qc2#', 'https://lichess.org/training/IBKb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IbKo3', 'Rapid', 'DarkSideCookies', 1738, 'Jaishreelal', 1733, 'd4,d5,c4,dxc4,e4,b5,Nc3,Ba6,Nf3,e6,b3,Bb4,Bd2,Bxc3,Bxc3,Nf6,e5,Nd5,Qd2,Nc6,a4,Nxc3,Qxc3,O-O', 'axb5,Bxb5,bxc4', 'https://lichess.org/training/IbKo3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IbLcQ', 'Classical', 'Willich', 1939, 'jercarlo07', 1925, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Bg3,Nc6,c3,O-O,Nbd2,Re8,Ne5,Nd7,Ndf3,f6,Nxc6,bxc6,Bxd6,cxd6,Bd3,e5,dxe5,dxe5,Bc2,e4,Nd4,c5,Nf5,Ne5,Ng3,a5,Ba4,Bd7,Qxd5+,Kh8,Bxd7,Qxd7,Qxd7,Nxd7,O-O-O,Ne5,Rd2,Nd3+,Kc2,Rab8,Rb1,Re7,f4,a4,Nxe4,Rxe4,Rxd3,c4,Rd2,Rxe3,Rbd1,g6,g3,Kg7,Rd7+,Kh6,R1d2,a3,bxa3,Ra8,Rc7,Rxa3,Rxc4,Rxa2+,Kc1', 'Re1+,Rd1,Ra1+', 'https://lichess.org/training/IbLcQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iBLHU', 'Rapid', 'spursfan2003', 1646, 'jimmyhimmy', 1640, 'e4,e5,Nf3,Nf6,Bc4,Bc5,Nxe5,O-O,d4,Bb6,Bg5,h6,Bh4,Nc6,Ng6,Re8,e5,Bxd4,Bxf6,Qxf6,O-O,Qxg6,Bd3,Qe6,Re1,Bxb2,Nd2,Bxa1,Qxa1,b6,Bc4,d5,Bb5,Bd7,c4,a6,Ba4,dxc4,Qc3,b5,Bc2,g6,Nf3,Re7,Qe3,Kg7,h3,Rae8,g4,Nxe5,Qd4,f6,Nxe5,Qxe5,Rxe5,Rxe5,Qxd7+,R5e7,Qc6,Re1+,Kg2,R1e2,Qxc7+,R8e7,Qd8,Kf7,Bxg6+,Kxg6,Qa5,c3,Qxc3,Rxa2,Qb3,Ree2', 'Qg8#', 'https://lichess.org/training/iBLHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IblX7', 'Blitz', 'SuwartikaKBPL', 2173, 'IM purzelbaumer', 2402, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Bd3,Nc6,Nge2,e5,d5,Nd4,Nxd4,exd4,Ne2,c5,O-O,d6,f3,b5,Bg5,bxc4,Bxc4,Qb6,b3,Nd7,Nc1,Ne5,Nd3,Nxc4,bxc4,Ba6,Qc2,Rfe8,h3,Qa5,Kh1,Rab8,Bd2,Qa3,Rfe1,Rb7,f4,Rbe7,e5,dxe5,fxe5,Bxe5,Nxe5,Rxe5,Rxe5,Rxe5,Bf4,Re8,d6,Bb7,Kh2,Bc6,Rb1,f6,Qf2,Qd3,Re1,Re4,Rxe4,Qxe4,Bg3,Kf7,Bh4,Qe6,Bg3,Qxc4,Qe1,Qe6,Qa5,Qd5,Qc7+,Kg8,Qd8+,Kg7,Qe7+,Qf7,Qe2,g5,h4,Qd5,hxg5,fxg5,Qe7+,Kg6,Qe2,h5,Qd3+,Qf5,Qc4,Qd5', 'Qxd5,Bxd5,d7', 'https://lichess.org/training/IblX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IbnHU', 'Rapid', 'Sinchikov', 1691, 'PassThrough', 1672, 'e4,e6,d4,d5,exd5,Qxd5,Nc3,Bb4,Qg4,Nc6,Nf3,Kf8,Bd3,e5,Qg5,f6,Qh4,exd4,Nxd4,g5,Qg3,Qxd4,O-O,Bd6,Qf3,Bg4,Qe3,Nge7,h3,Bf5,Qf3,Ne5,Qxb7,Kg7,Rd1,Rab8,Qa6,Bc8,Qa5,Bb4,Nb5,Qxd3,Qxb4,Qxd1+,Kh2,N7c6,Qc5,Ba6,Nxc7,Rbc8,Nxa6,Qd4,Qb5,Qd6,Qb7+,Qd7,Qb3,Nd4,Qg3,Nxc2,h4,Qd6,hxg5,Nc4,gxf6+,Kxf6,Bf4,Qxa6,Qh4+,Kf5', 'Qg5+,Ke6,Qh6+', 'https://lichess.org/training/IbnHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IbnuJ', 'Rapid', 'OinkMoohWoof', 1668, 'zaheerasad', 1630, 'e4,e5,Nc3,Bc5,Bc4,Nf6,Nf3,d6,Ng5,O-O,Nd5,c6,Nxf6+,Qxf6,Nf3,Bg4,d3,h6,Qe2,Rd8,Be3,Bb6,O-O-O,d5,Bb3,d4,Bd2,c5,h3,Bxf3,Qxf3,Qxf3,gxf3,Nc6,f4,exf4,Bxf4,Kh7,Bxf7', 'Rf8,Bg6+,Kxg6', 'https://lichess.org/training/IbnuJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iboKV', 'Rapid', 'JVRAJA', 1697, 'Nikhilkhar', 1783, 'd4,d5,e3,Nf6,h3,e6,Nf3,Nc6,a3,Bd6,b4,O-O,Bb2,Re8,Ne5,Nd7,Nxc6,bxc6,Nd2,e5,dxe5,Bxe5,Bxe5,Nxe5,Be2,d4,exd4,Qxd4,O-O,Bf5,Nf3,Qxd1,Rfxd1,Bxc2,Rd2,Ba4,Nxe5,Rxe5,Bf3,Rae8,Rc1,a5,bxa5,Rxa5,Rd4,Bb5,Rd7,Rxa3,Rxc7,g6,Bxc6,Bxc6,R7xc6,Re2,Rf1,f5,g3,Kg7,h4,Kh6,Rf6,Kh5,Rf7,h6,Rf6,Ra5,f3', 'Raa2,Rc1,Rg2+', 'https://lichess.org/training/iboKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IBooe', 'Blitz', 'SebastianMorlett', 2194, 'CM tainha', 2231, 'd4,d5,Nf3,Bf5,Bf4,c6,e3,e6,Be2,Nd7,O-O,Ngf6,h3,Be7,c4,O-O,Nc3,Ne4,Qb3,Nxc3,bxc3,b6,cxd5,exd5,Rac1,b5,a4,a6,Ne5,Nxe5,Bxe5,Bd6,f4,Bxe5,fxe5,Be4,Bf3,Bxf3,Rxf3,f6,Rcf1,Qd7,exf6,Rxf6,Rxf6,gxf6,e4,Qe6,exd5,cxd5,axb5,Rb8,b6,Rxb6,Qa3,Kg7,Qc5,Rc6,Qa7+,Kg6,Rf3,Rxc3,Rf1,Qe3+,Kh1,Rc2,Qxa6,Qg5', 'Qd3+,Kg7,Qxc2', 'https://lichess.org/training/IBooe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ibqQp', 'Blitz', 'waqtbarbad', 1900, 'AnaZ86', 1769, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,c6,Be2,Bg4,O-O,e6,h3,Bh5,d4,Nf6,Bf4,Bb4,a3,Bd6,Ne5,Bxe2,Qxe2,Nd5,Nxd5,cxd5,c3,O-O,Bh2,Nc6,f4,Qe7,Rae1,Rae8,Qf3,f6,Nxc6,bxc6,g4,Qc7,Qg2,c5,dxc5,Qxc5+,Kh1,Qb6,Bg1,Qc7,Be3,e5,f5,e4,g5,Be5,gxf6,Bxf6,Rg1,Rf7,Qg4,Kh8,Rg2,Rg8,Qh5,Qb7,Reg1,Re7,Bd4,Qc6,Bxf6,Qxf6,Rg6,Qe5,R6g4,e3', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/ibqQp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IBrjN', 'Rapid', 'humanbeing1', 1990, 'Sun_Boy', 1876, 'e4,c5,c3,e6,d4,d5,exd5,exd5,Nf3,Bg4,Be2,Nc6,O-O,h6,Be3,cxd4,cxd4,Nf6,Nc3,a6,Rc1,Bd6,h3,Bh5,Bd3,O-O,g4,Bg6,Bxg6,fxg6,Kg2,g5,a3,Ne7,Qb3,b5,Rfe1,Kh8,Ne2,Ne4,Ng3,Ng6,Nf5,Nf4+,Bxf4,Bxf4,Rc6,h5,Ne5,Rxf5,gxf5,Bxe5,dxe5,g4,hxg4,Qh4,Qf3,hxg4,Qf4,Qh3+,Kg1,g3,Rxe4', 'Qh2+,Kf1,g2+', 'https://lichess.org/training/IBrjN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IBSaw', 'Classical', 'omar_Abdullah118', 1718, 'Imanprodhan', 1763, 'e4,Nc6,Nf3,f5,exf5,d5,d4,Bxf5,Nc3,Nb4,Bd3,Bxd3,cxd3,e6,a3,Nc6,O-O,h6,Ne5,Nce7,Qh5+,g6,Nxg6', 'Nf6,Qh3,Nxg6', 'https://lichess.org/training/IBSaw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IBstE', 'Blitz', 'ilektrologos', 2353, 'Waderpl', 2370, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bc4,Qb6,Nxc6,bxc6,O-O,e6,Bb3,Be7,Kh1,Ba6,Be3,Qc7,Re1,O-O,f4,d5,e5,Nd7,Qh5,g6,Qh6,c5,Bg1,c4,Re3,Rfb8,Rh3,Nf8,Ne2,cxb3,Ng3,Qxc2,f5,exf5,e6,Bf6,Nh5,Bxb2,e7,Bxa1,exf8=Q+,Rxf8', 'Nf6+,Bxf6,Qxh7#', 'https://lichess.org/training/IBstE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IBSv2', 'Blitz', 'vidanut', 2033, 'MIKENIKIT', 1911, 'f4,c6,Nf3,d5,g3,Nf6,Bg2,e6,O-O,Bc5+,e3,O-O,d3,d4,e4,Nbd7,Qe2,Qb6,Nbd2,Re8,e5,Nd5,Ne4,Ne3,Bxe3,dxe3,c3,a5,d4,Be7,b3,c5,Qxe3,cxd4,cxd4,f6,exf6,Nxf6,Nxf6+,Bxf6,Rad1,Bd7,Ne5,Bb5,Rfe1,Bxe5,fxe5,Rad8,Kh1,Bc6,Bxc6,Qxc6+,Qe4,Qxe4+,Rxe4,Rf8,Rf4,Rxf4,gxf4,Rf8,Rg1,Rxf4,Rd1,Rf2,d5,exd5,Rxd5,Rxa2,Rb5,Ra1+,Kg2,Kf7,Rxb7+,Ke6,Rxg7,Kxe5,Rxh7,Kd4,Rc7,Ra2+,Kg3,Ra3,Rb7,Kc3,h4,Rxb3', 'Rxb3+,Kxb3,h5,a4,h6', 'https://lichess.org/training/IBSv2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IbsW6', 'Rapid', 'elmousse7', 1806, 'Weslleyteixeira18', 1912, 'd4,d5,Nf3,Bg4,Bf4,Nc6,e3,e6,Bb5,Bd6,Bxc6+,bxc6,Bg3,Nf6,Nbd2,Ne4,O-O,Nxd2,Qxd2,Bxf3,gxf3,Qf6,Kg2,h5,h4,g5,hxg5,Qxg5,f4,Qg4,Qd1,Qg6,Kh1,h4,Bh2,Rg8,Qf3,Qf5,Rg1,O-O-O,c4,e5,dxe5,Bxe5,cxd5,cxd5', 'Rxg8,Rxg8,Qxd5', 'https://lichess.org/training/IbsW6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IbtV5', 'Rapid', 'nishanth2066', 1710, 'AndreyGabrielov', 1690, 'd4,c5,d5,Nf6,c4,b5,b3,bxc4,bxc4,d6,Nc3,g6,Nf3,Bg7,Bb2,Qa5,Qa4+,Qxa4,Nxa4,O-O,Rb1,Bf5,Rc1,Na6,a3,Rab8,h3,Bd7,Bxf6,Bxf6,Nc3,Rb3,Nb5,Bxb5,cxb5,Rxb5,e3,Rb3,Bxa6,Rxa3,Bc4,Bc3+,Ke2,Rb8,Rc2,Rb4,Ba2,a5,Rb1', 'Rxa2,Rxa2,Rxb1', 'https://lichess.org/training/IbtV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iBV1d', 'Blitz', 'Slavica', 2086, 'Nikola_Nk', 2125, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,c5,d5,e6,Bd3,exd5,cxd5,Na6,a3,Nc7,Nge2,Re8,Bf2,a6,a4,Nh5,O-O,Rb8,g4,Nf6,a5,Bd7,Na4,Nb5,Nb6,h6,Nc3,Nd4,Bxd4,cxd4,Ne2,Nxg4,fxg4,Bxg4,Qe1,Be5,Nf4,f5,h3,Bxf4,Rxf4,Bxh3,Qg3,Bg4,exf5,Bh5,f6,Re3,f7+,Kf8,Qf2,Qg5+,Kf1', 'Bg4,Rxg4,Qxg4,Be2,Qh3+', 'https://lichess.org/training/iBV1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iBVqM', 'Classical', 'rfanning', 1733, 'Urquhart', 1712, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,Bf4,e6,e3,Bb4,Qb3,Bxc3+,Qxc3,O-O,Be2,dxc4,Bxc4,b5,Be2,Nd5,Qd2,Nxf4,exf4,Nd7,O-O,a6,Rac1,Rc8,Ne1,c5,dxc5,Nxc5,Qxd8,Rfxd8,Nf3,Be4,Rfd1,Na4,b3,Nb2,Rxd8+,Rxd8,Rc7,g6,Ra7,Bd3,Kf1,Bxe2+,Kxe2,Rd6,Ng5,Nd3,Rxf7,Nc1+,Kf3,Nxa2,Rxh7,Rd3+,Ke4,Rxb3,Ke5,Rb4,Re7,Nc3,Kf6', 'Nd5+,Kxe6,Nxe7', 'https://lichess.org/training/iBVqM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iBWEh', 'Rapid', 'marcusvd', 1775, 'todochessy', 1790, 'd4,e6,Bf4,d5,e3,Bd6,Bg3,Nf6,Nf3,O-O,Nbd2,Ne4,c3,Nxg3,hxg3,Nd7,Qc2,Nf6,g4,Ne4,Nxe4,dxe4,Qxe4,f5,gxf5,exf5,Qd5+,Kh8,Bd3,Qf6,O-O-O,c6,Qb3,b5,Rh3,Be6,Qc2,g6,Rdh1,Rf7,Kb1,a5,Qc1,b4,c4,f4,e4,Bxh3,Rxh3,Be7,e5,Qg7,Nd2,c5,e6,Rf6,d5,a4,Ne4,Rf5,g4,fxg3,Nxg3,Bg5', 'Nxf5,Bxc1,Nxg7', 'https://lichess.org/training/iBWEh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iBwOW', 'Rapid', 'CJR98', 1878, 'Soblahovan', 1955, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,c5,c3,Nf6,h3,Bd6,Bxd6,Qxd6,dxc5,Qxc5,Qd4,Nbd7,Nbd2,Rc8,Be2,O-O,O-O,Ne4,Nxe4,Bxe4,Nd2,Bg6,Bd3', 'Qxd4,cxd4,Bxd3', 'https://lichess.org/training/iBwOW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IbwSV', 'Rapid', 'YURIY_2014', 1961, 'rosencrantz86', 2019, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Bb5,Bd7,O-O,Nf6,Nc3,Ne5,Bxd7+,Nexd7,Nf3,Be7,Bg5,O-O,Qe2,Re8,Rad1,Nxe4,Nxe4,Bxg5,Nfxg5,Qxg5,Qd3,Qg6,f3,Ne5,Qd4,a6,Kh1,Rad8,Ng3,c5,Qf4,Qxc2,Rd2,Qg6,Rfd1,f6,Qf5,Qf7,b3,Qc7,Ne4,d5,Rxd5,Rxd5,Rxd5,Qa5,h3,Ng6,Kh2,Qxa2,Nxc5,Qe2,Ne4,Rf8,Qe6+,Kh8,Rd2,Qf1,Nd6,h6,Nf7+,Kh7,Nd6,Qa1,Nf5,Qa3,Rd7,Rg8,Rxb7,Ne5,Ne7,Rf8,Qf5+,Kh8,Ng6+,Nxg6,Qxg6,Rg8,Qd3,Qa1,Ra7,a5,Qf5,Qe1,Rxa5,Qb4,Rb5,Qe1,b4,Qe7,Rb6', 'Qc7+,f4,Qxb6', 'https://lichess.org/training/IbwSV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IByGx', 'Rapid', 'NOTFOXAnonymous', 2014, 'Micha1971', 2146, 'e4,e5,Nf3,Nf6,d4,Nxe4,dxe5,d5,Bf4,Bc5,Nd4,O-O,c3,Bb6,Nd2,c5,N4f3,Bf5,Nxe4,Bxe4,Bd3,Bxd3,Qxd3,c4,Qd2,Nc6,Rd1,d4,Nxd4,Nxd4,cxd4', 'Ba5,O-O,Bxd2', 'https://lichess.org/training/IByGx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ic1l6', 'Rapid', 'CapaNimzo74', 1799, 'EstiDeBG', 1686, 'Nf3,Nf6,g3,d5,c4,dxc4,Qa4+,Bd7,Qxc4,Nc6,d4,e6,Nc3,Bd6,e4,Bb4,e5,Bxc3+,bxc3,Nd5,Bg2,h6,O-O,Qe7,Rb1,O-O,Nd2,a6,Rxb7', 'Na5,Qe2,Nxb7', 'https://lichess.org/training/ic1l6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ic2OZ', 'Rapid', 'javier71', 1821, 'reptiloid', 1765, 'e4,d6,d4,Nf6,Bg5,Nxe4,Nf3,Nxg5,Nxg5,e5,Nf3,exd4,Qxd4,Nc6,Qd2,Be7,Bb5,Bd7,O-O,O-O,Re1,Bf6,Nc3,a6,Bd3,Ne5,Nxe5,Bxe5,Rab1,Bc6,Ne4,h6,c3,f5,Ng3,f4,Nf5,Bd7,Qc2,Qg5,Nd4,f3,g3,c5,Bc4+,Kh8,Ne6,Qg4,Nxf8,Rxf8,Qe4,Qh3,Bf1,Qh5,Qxb7,Bb5,Re3,g5,Bxb5,axb5,Qxb5,Qg4,Qf1,h5,h3,Qf5,Qd3,Qxh3,Qf1,Qg4,Kh1,h4,Rxe5,dxe5,Qg1,Rd8,gxh4,Qxh4+,Qh2,Rd2,Qxh4+,gxh4,Kg1,Kg7,a4,h3,a5,e4,b4,e3,fxe3,h2+,Kh1,Re2,a6', 'f2,a7,Re1+', 'https://lichess.org/training/Ic2OZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IC3a3', 'Classical', 'gabriel_colcea', 1606, 'nrb', 1609, 'e4,e5,Nf3,Nc6,Nc3,Bc5,d3,d6,Qe2,Nf6,Bd2,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,Nh5,Be3,Qh4,g3,Nxg3,fxg3,Qxg3+,Bf2', 'Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/IC3a3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IC43A', 'Rapid', 'mortalius', 1910, 'Opend', 1931, 'e4,c5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,g6,Re1,Bg7,e5,dxe5,Nc3,Qc7,d3,Bg4,Ne4,c4,h3,Bxf3,Qxf3,cxd3,cxd3,Nf6,Be3,Nd5,Rac1,Nxe3,fxe3,O-O,h4,Qb6,h5,Bh6,b3,Rad8,Nc5,Rd5,Na4,Qb4,Rf1,Rxd3,Rce1,Qd2,Nc5,Rxe3,Rxe3,Bxe3+,Kh1,Bxc5,h6,Qd5,Qe2,f5,Rf3,Rd8,Kh2,e4,Rg3,e5,Qh5,Rd6,Qxf5,Rd8', 'Rxg6+,hxg6,Qxg6+,Kf8,Qg7+,Ke8,h7,Be7,h8=Q+', 'https://lichess.org/training/IC43A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IC4bD', 'Rapid', 'mrbad90', 1817, 'Rayman-X', 1831, 'd4,d5,e4,dxe4,Bc4,Nf6,f3,exf3,Nxf3,e6,O-O,Be7,Bg5,O-O,Nc3,c6,h4,c5,h5,cxd4,Nxd4,Nxh5', 'Bxe7,Qxe7,Qxh5', 'https://lichess.org/training/IC4bD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ic4vP', 'Classical', 'coleraine', 1849, 'tunaelnahi', 1760, 'd4,Nf6,c4,e6,Nc3,Bb4,g3,O-O,Bg2,d5,Qd3,b6,e4,Bb7,exd5,exd5,cxd5,Bxd5,Bxd5,Nxd5,Nf3,Bxc3+,bxc3,Re8+,Ne5,f6,c4,Nb4,Qb3,N4a6,c5+,Kf8,Ba3,bxc5,Rd1,fxe5,Bxc5+,Nxc5,dxc5,Qe7', 'Qf3+,Qf7,Qxa8', 'https://lichess.org/training/Ic4vP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IC68t', 'Blitz', 'mat43', 1615, 'lagouache', 1580, 'd4,g6,c4,Bg7,Nc3,d6,a3,Nd7,b4,a6,Bb2,b6,e3,Bb7,Nf3,Ngf6,Be2,c5,dxc5,bxc5,b5,a5,a4,O-O,Nd5,e6,Nxf6+,Nxf6,O-O,d5,cxd5,Bxd5,Qc2,Qb6,Rfc1,Rac8,Ne5,Rfd8,Nc6,Rd7,Ne5,Rdc7,Qd1,Nd7,f4,Nxe5,fxe5,c4,Bc3,Qxe3+,Kh1,Bxe5,Bxe5,Qxe5,Bf3,c3,Bxd5,exd5,b6,Rb7,Qg1,d4,Rab1,d3,Rb5,Qe2,Qd4,d2,Rg1,c2,Rc5,d1=Q', 'Rxc8+,Qe8,Rxe8#', 'https://lichess.org/training/IC68t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IC6Hy', 'Blitz', 'ApolloBot', 1835, 'stnevans', 1701, 'c4,e5,g3,c6,d4,d6,Nc3,Bf5,Nf3,Nd7,dxe5,Nxe5,Nd4,Bg6,e4,Nf6,Bg5,Be7,f4,Ned7,Nf5,Bxf5,exf5,Nb6,c5,Nbd5,cxd6,Qxd6,Bxf6,Qxf6,Nxd5,cxd5,Qxd5,Qxb2,Qb5+,Qxb5,Bxb5+,Kf8,O-O-O,Rc8+,Kb1,Rc7,Rhe1,a6', 'Rd8+,Bxd8,Re8#', 'https://lichess.org/training/IC6Hy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iC8QY', 'Rapid', 'Shura73', 1772, 'bj0rn-1', 1760, 'd4,d5,Bf4,Nc6,e3,f6,Nd2,e5,dxe5,fxe5,Bg3,Bf5,Qh5+,Bg6,Qf3,e4,Qg4,Nf6,Qd1,Bd6,Bxd6,Qxd6,Bb5,a6,Ba4,O-O-O,Ne2,h5,c4,d4,exd4,Nxd4,Nxd4,Qxd4,Qe2,h4,Rd1,Bh5,f3,exf3,Nxf3,Bxf3', 'Qe6+,Kb8,Rxd4', 'https://lichess.org/training/iC8QY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ic9Qm', 'Rapid', 'andrejkulik', 1958, 'Ajedrezlapaloma', 1956, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,Nc6,d3,O-O,O-O,d6,a3,Bg4,Bg5,Nd4,Nd5,Nxf3+,gxf3,Bh3,Re1,c6,Nxf6+,gxf6,Bh4,Qb6,Qe2,Qd8,Kh1,Kh8,Rg1,Qe7,Rg3,Bd7,Rag1,Rg8,Rxg8+,Rxg8,Rxg8+,Kxg8,Qf1,Kh8,Qc1,Bb6', 'Qh6,Kg8,Bxf6,Qxf6,Qxf6', 'https://lichess.org/training/Ic9Qm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icagE', 'Rapid', 'prasadk', 1862, 'Lahemoo29', 1848, 'e4,g6,Nc3,Bg7,d4,c6,Nf3,e6,Bd3,d5,e5,Ne7,Bg5,h6,Bxe7,Qxe7,Na4,b6,Nc3,a5,a4,Ba6,Qe2,O-O,g3,Bxd3,Qxd3,Nd7,O-O,c5,Ne2,cxd4,Nexd4,Nxe5,Nxe5,Bxe5,Nc6,Qf6,h4,Bd6,h5,gxh5,Rae1,h4,Re3,h3,c4,Qg6,Qd4,Bc5,Qf4,Rae8,Rf3,f6,Qh4,f5,cxd5,Qg4,Qxg4+,fxg4,Rxf8+,Rxf8,dxe6,h2+,Kxh2,Bxf2', 'e7,Re8,Rxf2', 'https://lichess.org/training/icagE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icAlT', 'Rapid', 'cmyldrm', 1834, 'caminante', 1820, 'd4,d5,Nc3,h6,Bf4,a6,g3,Bf5,Bg2,e6,Be5,Nf6,Nf3,Bd6,Bxd6,Qxd6,Nh4,Bh7,O-O,O-O,Nf3,Nbd7,Nd2,c6,Re1,e5,dxe5,Nxe5,Nf3,Bf5,Nxe5,Qxe5,e3,b5,Qd4,Qe6,e4,Bh3,exd5,Qd7,Bxh3,Qxh3,dxc6', 'Ng4,Re4,Qxh2+', 'https://lichess.org/training/icAlT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IcBCF', 'Rapid', 'ThisIsAllTheory', 2083, 'vtc82', 2033, 'd4,d5,c4,e6,Nc3,Nf6,Nxd5,exd5,cxd5,Qxd5,e3,Bb4+,Bd2,Qa5,Nf3,Bg4,Qb3,Bxd2+,Nxd2,Qb6,Qa4+,c6,Nc4,Qc7,Qa3,Kd7,Ne5+,Kc8,Bc4,Be6,Bd3,Rd8,O-O,Qd6,Qa5,Nbd7,Nxc6,bxc6', 'Ba6+,Kb8,Qxd8#', 'https://lichess.org/training/IcBCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iCbnk', 'Blitz', 'Zamopolis', 2022, 'AlejandroAmador', 2046, 'd4,Nf6,Bf4,d6,e3,g6,h4,Bg7,h5,Nxh5,Rxh5,gxh5,Qxh5,Nd7,Bc4,O-O,Bg5,Nf6,Bxf6,Bxf6,Bd3,Re8,Bxh7+,Kf8,Nf3,e5,Nc3,exd4,Ne4,dxe3,fxe3,Be6,O-O-O,Bg7,Nfg5,Qe7,Rf1,Red8,Bg6,Ke8,Nxf7,Kd7,Nxd8,Rxd8,Ng5,Bxa2,e4,Rf8,Bf5+,Kc6,b3,Qe5,Ne6,Qa1+,Kd2,Qxf1,Nxf8,Qf2+,Kd3,Bd4', 'Bd7+,Kb6,Qb5#', 'https://lichess.org/training/iCbnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iCc09', 'Blitz', 'NM CaptainPlanet', 2363, 'Filetoypesto', 2347, 'd4,b6,Nf3,Bb7,c4,Bxf3,gxf3,g6,e4,Bg7,Nc3,e6,h4,h5,f4,Ne7,Bg2,c6,d5,exd5,exd5,cxd5,cxd5,d6,Be3,O-O,Bd4,Nf5,Bxg7,Kxg7,Qd2,Re8+,Kd1,Nd7,Kc2,Rc8,Rac1,b5,Kb1,a6,Bh3,Nh6,f5,b4,Ne2,Qf6,fxg6,Rxc1+,Nxc1,Ne5,gxf7,Nhxf7,Rg1+,Kh8,f4', 'Nf3,Qd1,Nxg1', 'https://lichess.org/training/iCc09');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iCcGQ', 'Rapid', 'pirasa500', 1812, 'hildebrando2007', 1849, 'e4,c5,Nf3,Nc6,g3,e6,Bg2,a6,c3,d5,exd5,exd5,O-O,Nf6,d4,c4,h3,Be7,b3,cxb3,axb3,O-O,Re1,Ne4,Ne5,Nxe5,dxe5,Be6,Bf4,Qb6,Be3,Qc7,Bd4,Bc5,Bxe4,dxe4,Rxe4,Bxd4,cxd4,Bxh3,Kh2,Bf5,Rh4,Rad8,Qh5,Bg6,Qf3,b5,Nc3,Qb6,Nd5,Qa7,Rc1,Rc8,Rh1,Rc2,Nf4,Qxd4,Nxg6,Rxf2+,Kh3,Qxh4+', 'Nxh4,Rxf3,Nxf3', 'https://lichess.org/training/iCcGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icDJi', 'Classical', 'telpago1', 1705, 'Paulophchess', 1721, 'e4,c5,Nc3,d6,f4,e6,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,exd5,Bb5,d4,Qe2+,Be7,Ne4,Qa5+,Nc3,dxc3,Bxc6+,bxc6,b3,Qc7,O-O,O-O,Re1,Re8,Be3,Bf5,Ne5,Nd5,Qh5,Nxe3,Qxf7+,Kh8,Rxe3,Bg6,Qc4,Bd6', 'Nxg6+,hxg6,Rh3#', 'https://lichess.org/training/icDJi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ICDV6', 'Classical', 'xalberte', 1857, 'Slin', 1935, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,g6,Be2,Bg7,h3,a6,Be3,Nf6,Nc3,b5,a3,O-O,b4,Bd7,Rc1,Rc8,O-O,Qc7,d5,Ne5,Nxe5,dxe5,Nxb5,Bxb5,Rxc7,Bxe2,Qxe2,Rxc7,Bc5,a5,f3,Bh6,d6,Rxc5,bxc5,exd6,cxd6,Nh5,Qb5,Be3+,Rf2,Rc8,Kf1', 'Ng3+,Kg1,Rc1+', 'https://lichess.org/training/ICDV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icf3U', 'Rapid', 'bakeds', 2102, 'Setia', 2076, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,h6,Nc4,b5,Ne3,Nf6,f3,Be6,Ncd5,Bxd5,exd5,Ne7,a4,Qa5+,Bd2,b4,c4,Qc5,b3,a5,Bd3,Qd4,Qe2,Qxa1+,Nd1,Qd4,c5,Qxc5,Bb5+,Kd8,Be3,Qxd5', 'Bb6+,Kc8,Qc2+,Qc5,Bxc5', 'https://lichess.org/training/icf3U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icgw1', 'Rapid', 'Hamiklar', 1676, 'boec49', 1620, 'e4,e6,Bc4,c6,Nf3,d5,exd5,cxd5,Bb3,Nf6,d4,Be7,O-O,O-O,Nc3,b6,Ne5,Ba6,Re1,Qd6,Bg5,Nc6,Bf4,Rac8,Qd2,Qb4,a3,Qxd4', 'Nxc6,Qxd2,Nxe7+', 'https://lichess.org/training/icgw1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ICJ0b', 'Blitz', 'il_forziere', 1912, 'jaysonsupnet', 1869, 'b3,d5,Bb2,Nc6,e3,e5,Bb5,Bd6,Nf3,Bg4,h3,Bxf3,Qxf3,Nf6,Qd1,a6,Be2,O-O,O-O,Qe7,a3,Rad8,d3,e4,Bxf6,Qxf6,d4,Ne7,c4,dxc4,bxc4,c5,Nd2,cxd4,Nxe4,Qe5,Ng3,dxe3,f4,Qc5,Ne4,Qc6,Nxd6,Rxd6,Qb3,Rd2,Bf3,Qc5,Kh2,Nc6,Rfe1,Re8,Qxb7,Nd4,Bd5,Rf8,Rxe3,Nc2,Bxf7+,Kh8,Re5,Qf2,Rg1,Ne3,Rxe3,Qxe3,Bd5,Qxf4+,Kh1,h6,Qxa6,Qf2,Qb7,Qg3,Qc6,h5,Qe6,Rdf2,a4,h4,a5,Ra2,a6,Rff2,Qc6', 'Qxh3+,gxh3,Rh2#', 'https://lichess.org/training/ICJ0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iCjh9', 'Rapid', 'das_k', 1649, 'mhnu', 1635, 'e4,e5,Qf3,Nf6,Bd3,d5,Nc3,d4,Nb5,a6,Na3,Bxa3,bxa3,O-O,c3,Bg4,Qg3,Nc6,cxd4,Nxd4,Qxe5,Re8,Qf4,Ne6,Qg3,Qd4,e5,Nf4,Ne2,Rxe5,O-O,Nxe2+,Bxe2,Rxe2,Bb2,Qxb2,Qxc7,Rxd2,Rab1,Rc2,Qf4,Qxa2,Rxb7,Rb2,Rc7,Qb1,Rcc1,Qe4,Qc7,Rb7,Qd6,Rd7,Qb6,Rb7,Qc5,a5,Rfe1,Rc8', 'Qxc8+,Bxc8,Rxc8+,Ne8,Rxe8+,Qxe8,Rxe8#', 'https://lichess.org/training/iCjh9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IcJz3', 'Rapid', 'Griboedov', 1838, 'Ignatius09', 1854, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,O-O,h6,c3,a6,b4,Ba7,Re1,O-O,Ba3,d6,d4,exd4,cxd4,Re8,Nc3,Bg4,Qb3,Qd7,e5,dxe5,d5,Bxf3,dxc6,Bxc6,Rad1,Qe7,b5,Bc5,Bxc5,Qxc5,bxc6,Red8,Bf1,Qxc6,Rxe5,Rxd1,Nxd1,Qd6,Qxb7,Rd8,Re1,Ng4,g3,Qd4,Ne3,Re8,Qf3,Ne5,Qf4', 'Qxf4,gxf4,Nf3+,Kh1,Nxe1', 'https://lichess.org/training/IcJz3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icjZr', 'Rapid', 'VVictorV77', 1895, 'aledzikowski', 1876, 'e4,d5,e5,Bf5,d4,e6,f4,c5,Nf3,Qb6,c3,Nc6,Na3,Bg6,h3,Nh6,g4,Be7,Bb5,O-O,Bxc6,bxc6,Nc2,cxd4,cxd4,c5,Rh2,Bxc2,Rxc2,Rac8,f5,exf5,Bxh6,gxh6,gxf5,cxd4,Rac1,Bb4+,Kf1,Qb5+,Kf2,Rxc2+,Rxc2,d3,Rc1,Bc5+,Kg3,Be3,Rc3,Qxb2,Rxd3,Qf2+,Kg4,Qg2+,Kh4,Bg5+,Nxg5', 'Qxg5#', 'https://lichess.org/training/icjZr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iCK2m', 'Classical', 'Abdlbktpl', 1696, 'Rijahas', 1609, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,g3,Nxc3,bxc3,e6,Bg2,c6,e3,Be7,Ne2,Nd7,d4,O-O,O-O,Rb8,a4,a5,Ba3,Re8,c4,Bf6,Bd6,Ra8,Nc1,Nb6,c5,Nd5,Nd3,Ne7,Re1,Bd7,Nb2,Nc8,Nc4,Nxd6,Nxd6,Rf8,Nxb7,Qc7,Rb1,Be7,Rb6,Rfb8,Qb3,Ra7,Nd6,Bxd6,Rxb8+', 'Qxb8,Qxb8+,Bxb8', 'https://lichess.org/training/iCK2m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ICL1Z', 'Rapid', 'TellingMoose', 1833, 'ageldabukke', 1845, 'd4,e5,dxe5,Qe7,Nf3,Qb4+,c3,Qe7,e4,Nc6,Bd3,Nxe5,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/ICL1Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iCmg8', 'Rapid', 'parviz1340', 1792, 'polof', 1797, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Ne2,Nb6,Bb3,Nc6,a3,Bc5,O-O,O-O,Be3,Bxe3,fxe3,Bg4,Qe1,Qg5,Qf2,Be6,Nd2,Qg6,Ng3,Bxb3,Nxb3,Nd5,e4,Nf4,Nf5', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/iCmg8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ICmpO', 'Blitz', 'blindfish', 2515, 'IM Cerdifixer', 2547, 'e3,g6,d4,Bg7,Nf3,f5,Bd3,Nf6,O-O,O-O,Nbd2,d5,c4,e6,b3,Nc6,Bb2,a5,a3,Qe7,Qc2,Bd7,Rfe1,Ne4,Ne5,Be8,Ndf3,Nd8,Rac1,c6,Re2,g5,Ne1,Bh5,f3,Nd6,b4,axb4,axb4,g4,Rf2,gxf3,gxf3,N6f7,Ng2,Bh6,Re1,Nxe5,dxe5,Nf7,Ref1,Ng5,Nf4,Qf7,Be2,Kh8,Kh1,Nh3,Nxh3,Bxe3,Rg2,Rg8,Rxg8+,Rxg8,cxd5,Qg7,Bd3', 'Bxf3+,Rxf3,Qg1+,Nxg1,Rxg1#', 'https://lichess.org/training/ICmpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IcnaR', 'Rapid', 'Djie13', 1917, 'vladimirzozulya1500', 1784, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Bd7,c3,Be7,d4,b5,Bb3,Nf6,Re1,h6,h3,O-O,Nbd2,exd4,cxd4,Re8,e5,dxe5,dxe5,Nh7,e6,Bxe6,Bxe6,fxe6,Rxe6,Bd6,Qb3,Rxe6,Qxe6+,Kh8,b3,Qf6,Qxf6,Nxf6,Bb2,Rf8,Nh4,Kh7,Nf5,Be5,Bxe5,Nxe5,Rc1,Nd5,Rc5', 'Rxf5,Rxd5,Nf3+,Nxf3,Rxd5', 'https://lichess.org/training/IcnaR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Icnp4', 'Rapid', 'lukassanter', 2061, 'Christos22', 1778, 'e4,e5,Bc4,Bc5,d3,Qh4,Qe2,d6,Nf3,Qf6,O-O,h6,Nc3,Ne7,Be3,Bg4,Bxc5,dxc5,Nd5,Nxd5,Bxd5,Nc6,c3,O-O,Qe3,Bxf3,gxf3,b6,Kh1,Rad8,Rg1,Ne7,Bb3,Ng6,Rg4,Nf4,Bc4,c6,a4,h5,Rg3,Kh7,Rag1,g6,b4,cxb4,cxb4,Rd4,Ra1,Rfd8,Ra3,Kg7,Rg1,Qd6,Rb3,Nxd3,Bxd3,Rxd3,Rxd3,Qxd3,Qxd3,Rxd3,Rc1,c5,bxc5,bxc5,Rxc5,Rxf3,Rxe5,Rxf2,Re7,Kf6,Rxa7,Re2,a5,Rxe4,Kg2,Re7', 'Rxe7,Kxe7,a6', 'https://lichess.org/training/Icnp4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ICNvG', 'Blitz', 'LM Killerkaz', 2263, 'fastismything', 2205, 'd4,Nf6,c4,e6,Nc3,c5,d5,exd5,cxd5,d6,e4,Be7,Bd3,Nbd7,Nf3,a6,a4,O-O,h3,Re8,O-O,Nf8,Bf4,Ng6,Bh2,Bf8,Re1,Bd7,e5,dxe5,Nxe5,Nxe5,Bxe5,Rc8,Qf3,c4,Bc2,b5,axb5,axb5,Ra6,b4,Rxf6,gxf6,Qh5,h6,Nb5,Rxe5,Rxe5,fxe5,Nd6,Bxd6,Qxh6,f5,Qg6+,Kh8,Qh6+,Kg8,Qg6+,Kf8,Qxd6+,Ke8,Bd1,Qe7,Bh5+,Kd8', 'Qb6+,Rc7,d6,Qxd6,Qxd6', 'https://lichess.org/training/ICNvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ICNWk', 'Blitz', 'Dondochakka', 1698, 'DrMittens', 1712, 'd4,d5,c4,c6,Bf4,Bf5,Nf3,dxc4,e3,Be6,Nc3,Nf6,Ng5,Bd5,e4,Be6,Nxe6,fxe6,Bxc4,Qd7,Qd2,g6,O-O-O,Bg7,d5,exd5,exd5,cxd5,Bxd5,Nxd5,Nxd5,Qc6+,Kb1,Na6,Rhe1,Bf6,Nxf6+,Qxf6,Be5,Qf5+,Ka1,O-O,Qh6,Rf7,Rd4,Qxf2,Red1,Qf5,Rd8+,Rxd8', 'Rxd8+,Rf8,Qg7#', 'https://lichess.org/training/ICNWk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IcNZW', 'Rapid', 'SNAKESMR', 1632, 'ponticelli', 1637, 'e4,c5,Bc4,a6,Nf3,e6,c3,b5,Bb3,Nc6,d4,cxd4,cxd4,Bb7,d5,Nce7,dxe6,fxe6,O-O,Nf6,e5,Nfd5,Bxd5,Nxd5,Nc3,Ne7,Bg5,h6,Bxe7,Bxe7,h3,O-O,Qd3,Qe8,Rad1,Bc6,g4,Bxf3,Rd2,Bc6,f4,Bh4,g5,Qh5,gxh6,Qxh6,Kh2,b4,Ne4,Bb5,Nf6+,gxf6,Rg1+,Kf7,Qd6,Qxf4+,Kh1,Bc6+,Rgg2,Qf1+,Kh2,Qf4+,Kg1,Bxg2,Rxg2,Qc1+,Kh2,Qc6,Qd3,Rg8,Qh7+,Kf8,Qxg8+,Ke7', 'Rg7#', 'https://lichess.org/training/IcNZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icpi4', 'Rapid', 'domidodo', 1736, 'JulioCorreia', 1736, 'e4,c6,d4,d5,exd5,Qxd5,Nc3,Qa5,Bd2,Nf6,Bd3,Qb4,Nge2,e6,Qc1,Be7,Nd5,Qd6,Bb4', 'Qxd5,Bxe7,Kxe7', 'https://lichess.org/training/icpi4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icq60', 'Rapid', 'adnooo61', 2089, 'Rusc', 1994, 'd4,e6,Nf3,f5,g3,Nf6,Bg2,Be7,c4,O-O,Nc3,d6,O-O,Bd7,b3,Bc6,Ng5,Bxg2,Nxe6,Qc8,Nxf8,Bxf1,Nxh7,Nxh7,Kxf1,f4,Bxf4,Qh3+,Kg1,Nc6,Nd5,Nf6,Ne3,Re8,d5,Nd8,Qf1,Qxf1+,Rxf1,Nf7,h3,Nh5,Ng2,Nxf4,Nxf4,Bf6,Ne6,Ng5,Nxg5,Bxg5,e3,a5,Re1,a4,f4,Bf6,Kg2,axb3,axb3,Ra8,e4,Ra2+,Kf3,Rb2,Re3,Bd4,Rd3,Rf2+,Kg4,Bc5,Kf5,Re2,e5,dxe5,fxe5,Re3,Rxe3,Bxe3,Ke6,Kf8,Kd7,Bf2,g4,Bg3,e6,Bd6,b4,b6,c5,bxc5,bxc5,Bxc5,Kxc7,Ke7,h4,Bf2,h5,Bg3+,Kc6,Bd6,g5,Be5', 'h6,gxh6,gxh6', 'https://lichess.org/training/icq60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IcrAs', 'Rapid', 'Wolkeweiss11', 1644, 'bechhofen_benedikt', 1910, 'd4,Nf6,Bf4,g6,e3,Bg7,Bd3,O-O,Nf3,d6,c3,Re8,Nbd2,Nbd7,h3,e5,Bg3,e4,Bh4,exd3,Bxf6,Nxf6,Nb3,Bf5,Nh4,Qd7,g4,Be4,f3,Bd5,e4,Nxe4,fxe4,Bxe4,O-O,d5,Nc5,Qd6,Nxe4,dxe4,Kg2,Qa6,a3,e3,Re1,Qf6,Nf3,Qf4,Qxd3,Re7,Re2,Rae8,Rae1,Bh6,b4,f5,Ne5,Kh8,Rxe3,fxg4,hxg4,Rf8,Rf3,Qg5,Rxf8+,Bxf8,Qf3,Bg7,Nf7+,Rxf7,Qxf7,Qxg4+,Kf1,Qh3+,Kf2,Qh2+,Kf3,Qh3+,Ke2,Qg2+,Qf2,Qe4+,Qe3,Qc2+,Qd2,Qe4+,Qe3,Qc2+,Kf3,Qf5+,Qf4,Qh3+,Ke4', 'Qe6+,Kf3,Qxe1', 'https://lichess.org/training/IcrAs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Icsuo', 'Rapid', 'NM FalzeHope', 2063, 'SuperSteven10', 1630, 'd4,d5,e3,e6,Bd3,c5,c3,Nf6,f4,Ne4,Nf3,Nc6,O-O,c4,Bc2,Qf6,Ne5,Nxe5,fxe5,Qg6,Nd2,f5,exf6,gxf6,Nxe4,dxe4,Qe2,Bd6,Qxc4,Rg8,Rf2,Qh5,g3,Bxg3,hxg3,Rxg3+,Kf1,Qh1+,Ke2,e5,dxe5', 'Bg4+,Kd2,Rd8+', 'https://lichess.org/training/Icsuo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ICTKh', 'Blitz', 'andrew-_-_____newton', 2238, 'Inevitableboy', 2215, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d5,exd5,Qxd5,Be3,e6,Nc3,Bb4,Nxc6,Bxc3+,bxc3,bxc6,Qxd5,cxd5,c4,Ne7,cxd5,Nxd5,Bb5+,Bd7,Bxd7+,Kxd7,O-O,Rhc8,Rac1,Nxe3,fxe3,f6,c4,Rc7,Rfd1+,Ke7,Kf2,Rac8,Rd4,h6,Ke2,a5,Kd3,Rc5,a4,e5,Rg4,g5,h4,f5,Rg3,e4+,Kd4,Kf6,hxg5+,hxg5,Rh3,R5c7,c5,Rd8+,Kc4,Ke5,Rh6,f4,exf4+,gxf4,Rch1,e3', 'R1h5+,Ke4,Re6#', 'https://lichess.org/training/ICTKh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ictph', 'Rapid', 'Andrey0775', 1739, 'EvanderMG', 1601, 'e4,c5,Nf3,Nc6,Nc3,g6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Bg7,O-O,Nf6,f4,Qc7,fxe5,Qxe5,Bf4,Qc5+,Kh1,Qxc4,Be5,Qe6,Qd4,Bb7,Bxf6,c5,Qe5', 'Qxe5,Bxe5,Bxe5', 'https://lichess.org/training/ictph');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icukM', 'Classical', 'vataxhevdet13', 1846, 'kobkobi', 1856, 'e4,c6,f4,d5,e5,Nh6,d4,c5,Be3,Nf5,Bf2,Qb6,dxc5,Qxb2,Nd2,e6,g4,Nd4,Bxd4,Qxd4,Ne2,Qxc5,Nb3,Qc7,Ned4,Bb4+,Ke2,b6,Qd3,Ba6,Nb5,Qd7,Kf3,Bxb5,Qxb5,Qxb5,Bxb5+,Ke7,a3,Bc3,Rab1,a6,Bd3,Nd7,h4,f6,exf6+,gxf6,g5,e5,gxf6+,Kxf6,fxe5+,Nxe5+,Ke2,h6,Nd2,b5,Rhf1+,Ke6,Bf5+,Kd6,Nf3,Rae8,Kf2,Rhf8,Nxe5,Rxf5+,Nf3,Kc5,Rbd1,Re4,Kg2,Ra4,Rd3,Rxa3,Rfd1,Bb2,Rxa3,Bxa3,c3,Kc4,Ra1,Kb3,Nd4+,Kxc3,Nxf5,Kb2,Rd1,b4,Rxd5,b3,Nd4,Kc3,Ne2+,Kc4,Ra5', 'b2,Rxa3,b1=Q', 'https://lichess.org/training/icukM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iCuqb', 'Rapid', 'stevehar', 1756, 'PumpkinFarmer', 1810, 'e4,e6,e5,c5,Nf3,Nc6,Bb5,Qc7,Bxc6,Qxc6,O-O,b6,d4,Bb7,Be3,d6,Bf4,Rd8,exd6,Bxd6,Bxd6,Rxd6,c3,Ne7,Nbd2,O-O,Re1,g5,h3,f5,Re5,Ng6,d5,Rxd5,Rxd5,Qxd5,Nb3,Qc6,Qf1,g4,hxg4,fxg4,Ng5,Nh4,f3,gxf3,gxf3,Nxf3+,Nxf3,Rxf3,Qg2+,Kh8,Rf1,Rxf1+,Qxf1,Kg8,Qh3,e5,Nd2,Qd5,Qg4+,Kf7,Qf5+,Kg7,Qg4+,Kh8,Nf1,Qg8,Qxg8+,Kxg8,Ne3,Kf7,Kf2,Kf6,Kg3,e4,Nc4,Ke6,Kf4,Kd5,b3,b5,Nd2,a5,Nxe4,c4,bxc4+,Kxc4,Nd6+,Kxc3,Nxb7,a4,Nc5,Kc4,Ne4,b4,Ke3,b3,Nd2+,Kb4,axb3', 'a3,Nb1,a2', 'https://lichess.org/training/iCuqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iCVQ0', 'Blitz', 'detstvo', 2113, 'Pegasus_O', 2086, 'd4,Nf6,Bf4,g6,Nc3,Bg7,Qd2,d6,e4,O-O,O-O-O,c6,f3,b5,Bh6,b4,Na4,Qa5,b3,Bd7,Bxg7,Kxg7,e5,Nd5,Bc4,Nc3,Qg5,f6,Qh4,d5,Bd3,Nxa4,exf6+,exf6,Re1,Rf7,Nh3,Bxh3,gxh3,Nc3,Rhg1,Nd7,Bxg6,hxg6', 'Rxg6+,Kxg6,Rg1+,Kf5,Qg4#', 'https://lichess.org/training/iCVQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iCweK', 'Blitz', 'NM Biofritz', 2200, 'sw413', 2175, 'e4,c5,Nc3,Nc6,Bb5,g6,Bxc6,dxc6,f4,Bg7,Nf3,Nf6,d3,O-O,O-O,Bg4,Qe1,Bxf3,Rxf3,c4,Qh4,cxd3,Rxd3,Qb6+,Kh1,Rfd8,e5,Rxd3,cxd3,Nd5,Nxd5,cxd5,Qxe7,Qf2,h3,Bf8,Qxb7,Re8,Qd7,Re6,Qxd5,Bc5,d4', 'Bxd4,Bd2,Qxd2', 'https://lichess.org/training/iCweK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ICWlc', 'Rapid', 'genasyr2002', 1835, 'fdo_eq', 1991, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,e6,Ng3,Bxd3,Qxd3,Nf6,Nf3,Be7,O-O,O-O,b3,c5,Bb2,Nc6,Rad1,cxd4,Nxd4,Rc8,Nxc6,Rxc6,Ne4,Qxd3,cxd3,Nd5,Rfe1,h6,Nd2,Rfc8,Nc4,b5,Ne5,Rc2,Rc1,Rxc1,Rxc1,Rxc1+,Bxc1,Nb4,a3,Bf6,d4,Bxe5,dxe5,Nd3,Be3,a6,f4,Kf8,Kf1,g5,fxg5,hxg5,Bxg5,Nxe5,b4,Nc4,Bc1,Kg7,Ke2,Kg6,Kd3,Kf5,h3,e5,g4+,Kg6,Ke4,f6,h4,Nd6+,Kd5,Nc4,h5+,Kh7,Ke6,e4,Kxf6,e3,Bxe3,Nxe3,g5,Nd5+', 'Kf7,Ne3,g6+,Kh6,g7', 'https://lichess.org/training/ICWlc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IcxBi', 'Rapid', 'Mulladjan_Ayupov', 1914, 'Mr_Pretzel', 1874, 'd4,g6,c4,Bg7,Nc3,d6,e4,Nf6,Nf3,e5,d5,O-O,Be2,c6,O-O,cxd5,cxd5,Na6,a3,Nc5,Qc2,a6,b4,Ncd7,Ne1,h6,f4,Nb6,fxe5,dxe5,Be3,Ng4,Bd2,Bd7,h3,Nf6,Nf3,Rc8,Rac1,Re8,Qd1,Qe7,Be3,Qd6,Bc5,Qc7,Na2,Nxe4,Be3,Qd8,Qd3,Nd6,Qb3,Rxc1,Rxc1,Bb5,Bxb5,Nxb5,Rd1,Nd6,Nc3,Qc7,Bc5,Nd7,Bf2,e4,Nd4,e3,Bg3,Qb6,Nce2,Re4,Nf3,Nb5,Rd3,Nd6,Qc2,Rc4,Qb3,Re4,Ne1,Nf5,Bh2,Nc5', 'bxc5,Qxb3,Rxb3', 'https://lichess.org/training/IcxBi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IcXGr', 'Rapid', 'starcreem', 1751, 'hamod26642', 1683, 'd4,e6,e4,d5,exd5,exd5,Nc3,Nf6,Nf3,Bd6,Bd3,O-O,O-O,c6,Re1,Bg4,h3,Bxf3,Qxf3,Nbd7,Bg5,Qc7,Re2,Rae8,Rae1,Rxe2,Rxe2,h6,Bd2,Qb6,a4,Qxd4,Re3,Qb4,Nxd5', 'Qxd2,Nxf6+,Nxf6', 'https://lichess.org/training/IcXGr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icyKZ', 'Blitz', 'FighterAndre', 2022, 'otmar1', 1657, 'd4,g6,c4,c6,Nc3,Bg7,e4,d6,f4,e6,Nf3,Ne7,Be2,O-O,O-O,c5,d5,exd5,Nxd5,Bg4,Qc2,Nbc6,Be3,f5,exf5,Nxf5,Bf2,Bxf3,Bxf3,Nfd4,Bxd4,Nxd4,Qf2,Nxf3+,Qxf3,Bd4+,Kh1,b6,Rab1,Qd7,b3,Rae8,Rbe1,Rxe1,Rxe1,Re8,Rxe8+,Qxe8,h3,Qe1+,Kh2,Bf2,h4', 'Qg1+,Kh3,Qh1+,Kg4,Qxh4#', 'https://lichess.org/training/icyKZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icyQC', 'Rapid', 'biagiobiagin92', 2305, 'LuzifersExecutioner', 2329, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Bxd7+,Bxd7,h3,g6,c3,Bc6,Re1,Bg7,d4,Nf6,e5,Ne4,Qe2,d5,Bf4,cxd4,cxd4,e6,Nbd2,Nxd2,Qxd2,Qb6,Bh6,Bxh6,Qxh6,O-O-O,Qd2,h6,Rac1,Kb8,Rc3,g5,Rec1,Rhg8,Rb3,Qc7,Ne1,g4,h4,g3,Rxg3,Rxg3,fxg3,Rg8,Kh2,h5,Nd3,Rg4,Nf4,Qb6,Rc3,Bb5,Rb3,Qc6,Qc3,Bc4,Ra3,Qb6,b3,Bb5,Ra5,Qd8,Ra3,Bd7,b4,f6,Qc5,fxe5,dxe5,Rxf4,Qd6+,Ka7,gxf4,Qxh4+,Kg1,Qe1+,Kh2,Qh4+,Rh3,Qxf4+,Kg1,Qc1+,Kf2,Qd2+,Kg3,Qe3+,Kh4', 'Qf4+,g4,Qxg4#', 'https://lichess.org/training/icyQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IcYyR', 'Blitz', 'mena999', 2302, 'hagr135', 2285, 'd4,Nf6,e3,g6,c4,Bg7,Nc3,d6,e4,O-O,f3,Nbd7,Be3,e5,Qd2,Re8,Nge2,c6,O-O-O,a6,h4,b5,g4,bxc4,h5,Rb8,hxg6,fxg6,Bh6,Bh8,d5,c5,Be3,Qa5,Bg2,Nb6,Rh2,Rb7,Rdh1,Na4,Nxa4,Qxa4,Nc3,Qa5,Qe2,Qb4,a3,Qb3,Qc2,Qb6,Qa4,Bd7,Qc2,Re7,Bf1,Bb5,Bg5,Rf7,Kb1,Rf8,Ka1,Rfb8,f4,exf4,Be2,Ne8,Bxf4,a5,Bf3,Ba6,g5,Rf7,Ne2,c3,bxc3,Bc4,e5,Rfb7,Qxg6+,hxg6', 'Rxh8+,Kf7,R1h7+,Ng7,e6+,Ke7,Rxg7#', 'https://lichess.org/training/IcYyR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IcZ92', 'Rapid', 'Kaerdo2', 2283, 'OgrodeEscalada', 2326, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,O-O,O-O-O,Nc6,g4,Nxd4,Rxd4,Qc7,Bg2,Rb8,Rd3,b5,Bxf6,Bxf6,g5,Be7,h4,a5,f5,exf5,exf5,Bb7,Qg3,Rfc8,Bxb7,Rxb7,Rh2,Bf8,h5,b4,Nd5,Qc5,g6,a4,h6,b3,gxh7+,Kh8,hxg7+,Bxg7,Qxg7+,Kxg7,h8=Q+,Rxh8', 'Rg3+,Kf8,Rxh8#', 'https://lichess.org/training/IcZ92');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iCzBA', 'Classical', 'TOURNAMENT_MODE', 1937, 'misaacs2', 1754, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bd3,Bg4,h3,Bh5,O-O,O-O,c3,Nd7,Re1,Qb6,Be4,Rfe8,b3,Rad8,Bb2,c5,Qd3,Bxf3,Bxf3,cxd4,cxd4,Bb8,Rac1,Ne5,Qc3,Nxf3+,Qxf3,Qd6,g3,b6,Rxe8+,Rxe8,Rc6,Qd7,Kg2,Bc7,d5,Be5,Bxe5,Rxe5,d6,h6,Rc7,Qxd6,Rxa7,g6,Ra6,Qc7,Qxf6', 'Qb7+,Qf3,Qxa6', 'https://lichess.org/training/iCzBA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('icZOL', 'Blitz', 'DRAGAO500', 1560, 'UNCOMMONLY', 1526, 'c4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,e3,Nf6,Nge2,e6,b3,b6,Bb2,Bb7,O-O,Qc7,d4,cxd4,exd4,d5,c5,O-O,cxb6,axb6,Nb5,Qd7,a4,Ba6,Ba3,Rfe8,Qd3,e5,Rfd1,exd4,Nexd4,Nxd4,Qxd4,Bxb5,axb5,Qxb5,Bxd5,Nxd5,Qxd5,Qxd5,Rxd5,Re7,Bxe7,Rxa1+,Kg2,h5,Rd8+,Kh7,Rb8,Bd4,Bd8,Ra3,Bxb6,Bxb6,Rxb6,f5,b4,Kg7,b5,Kf7,Kh3,Ke7,Kh4,Kf7,Rb7+,Kf6,b6,Ra2,Rb8,Rxf2', 'Rf8+,Kg7,b7,Rxh2+,Kg5,Kxf8,b8=Q+', 'https://lichess.org/training/icZOL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ID1fO', 'Classical', 'AntonDeBeuker', 1764, 'Gd3msr', 1689, 'd4,Nf6,c4,d5,Nc3,Nc6,cxd5,Nxd5,Nxd5,Qxd5,Nf3,Bg4,e3,Bxf3,gxf3,O-O-O,Bd2,e5,e4,Qxd4,Bh3+,Kb8,O-O,Qxb2,Qb3,Qxb3,axb3,Rxd2,Rfd1,Rxd1+,Rxd1,Bd6,b4,Nxb4,Bf1,g6,Rb1,f5,Bc4,Rd8,Kg2,Nc6,Kh3,Na5,Bf7,Rf8,Be6,Nc6,Kh4,Nd4,Bd5,Nxf3+,Kg3,fxe4,Rxb7+,Kc8,Bxe4,Nd2,Bd5,e4+,Kg2,Bc5,Rb5,Rxf2+,Kg3,Nf1+,Kg4,Nxh2+,Kg5,Be7+,Kh6,e3', 'Be6+,Kd8,Rb8#', 'https://lichess.org/training/ID1fO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('id320', 'Blitz', 'fa56', 1716, 'ZEROinvasion', 1635, 'e4,e5,Bc4,Nc6,Qf3,Nf6,c3,Bc5,b4,Bb6,g4,O-O,g5,Ne8,d3,d6,h4,Be6,h5,Bxc4,dxc4,g6,a4,a5,b5,Ne7,Be3,c6,Ne2,cxb5,cxb5,Bxe3,fxe3,d5,hxg6,fxg6,Qh3,Rf7,Nd2,Nd6,Rd1,Rc8,Qe6,dxe4,Qxe5,Nef5,Nf4,Nxe3,Rc1,Ndc4,Nxc4,Rxc4,Nxg6', 'Ng2+,Ke2,Qd3#', 'https://lichess.org/training/id320');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Id3Wz', 'Blitz', 'KaladinKingkiller', 1851, 'hamdimohamed555', 1857, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Nf6,O-O,Bd7,Re1,Be7,c3,O-O,d4,exd4,cxd4,h6,Nc3,a6,Ba4,b5,Bc2,Nh7,a3,Bg5,Qd3,Bxc1,Raxc1,g6,e5,Bf5,Ne4,dxe5,Nxe5,Nxe5,dxe5,Qxd3,Bxd3,Rad8,g4,Bxg4,hxg4,Rxd3,Rxc7,Rb3,Rb1,Ng5,Nf6+,Kg7,f4,Nf3+,Kf2,Nd2,Rd1,Nc4,Rb1,Nxa3,Ra1,Nc4,Rxa6,Rxb2+,Kg3,Rb3+,Kh4,Rb1,Raa7,Ne3,Kg3,b4,Ne4,b3,Nd6,b2,Rxf7+,Rxf7,Rxf7+,Kg8,Rb7,Rg1+,Kf3,b1=Q,Rxb1,Rxb1,Kxe3,Kg7,f5,Rb3+,Kf4,g5+,Ke4,Rb4+,Kd5,Rxg4,f6+,Kf8,Nf5,h5', 'e6,Rg1,e7+,Kf7,Nd6+,Kxf6,e8=Q', 'https://lichess.org/training/Id3Wz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Id4Uc', 'Blitz', 'FM Yavorovsky_Valeriy', 2432, 'rippchess', 2354, 'd4,f5,g3,Nf6,Bg2,g6,Nf3,Bg7,O-O,O-O,c4,d6,Nc3,c6,d5,e5,dxe6,Bxe6,Qd3,Re8,Bf4,Ne4,Nxe4', 'fxe4,Qc2,exf3', 'https://lichess.org/training/Id4Uc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('id5fz', 'Blitz', 'Rise', 2071, 'FM bulkinadivane', 2547, 'Nf3,b6,e4,Bb7,Nc3,e6,d4,d5,exd5,exd5,Bd3,c6,O-O,Bd6,Re1+,Ne7,Ng5,g6,Qf3,O-O,Qh3,h5,g4,Bc8,f3,Kg7,Qg2,Rh8,h3,Nd7,f4,hxg4,hxg4,Nf6,f5,Rh2,Qf3,Qh8,Bf4,Bxf4,Qxf4,Rh4,Rxe7,Rxg4+,Qxg4,Nxg4,Rxf7+,Kg8,Rh7,Qxd4+,Kh1,Bxf5,Bxf5,gxf5,Re1,Nf6,Rh6,Kg7', 'Ne6+,Kxh6,Nxd4', 'https://lichess.org/training/id5fz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('id6Tb', 'Rapid', 'spoter', 1880, 'ANDROBANK', 1880, 'd4,d6,c4,e6,e4,b6,Nc3,Bb7,Be3,g6,Nf3,Bg7,Be2,Ne7,O-O,h6,e5,dxe5,dxe5,Qxd1,Raxd1,O-O,Rd2,c5,Rfd1,Nbc6,a3,Nxe5,Nxe5,Bxe5,Bxh6,Bg7', 'Bxg7,Kxg7,Rd7', 'https://lichess.org/training/id6Tb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('id7Vw', 'Rapid', 'TheBigArabian', 2128, 'khoolou', 2142, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,Bd7,Bb3,Rc8,O-O-O,Ne5,g4,Nc4,Bxc4,Rxc4,Kb1,a6,h4,h5,gxh5,Nxh5,Rhg1,b5,b3,Rc8,Bg5,Re8,Nd5,Bc6,Nxc6,Rxc6,Rg2,Qd7,Bh6,e6,Bxg7,Kxg7,Nb4,Rcc8,Qxd6,Qxd6,Rxd6,a5,Nd3,Red8,Rxd8,Rxd8,Rg5,a4,Rxb5,a3,Kc1,Ng3,Kd2,Rc8,c4,Rh8,Rg5,Nh5,Ke3,Nf6,Ra5,Rxh4,Rxa3,Rh3,Nf2,Rh8,Ra7,Rd8,c5,Nd7,b4,Ne5,a4,Nc4+,Kf4,Rd2,Ng4,Rg2,c6,e5+,Nxe5', 'g5+,Kf5,Ne3#', 'https://lichess.org/training/id7Vw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('idAZL', 'Blitz', 'DojoFTW', 1833, 'KartikHdhd', 1834, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Bd3,Be7,Nf3,O-O,O-O,b6,Be3,Bb7,Ng3,Nbd7,h3,Rc8,c3,c5,Bc2,cxd4,Bxd4,Nc5,b4,Nce4,Qd3,Nxg3,fxg3,g6,Ne5,Qc7,Qe3,Nd5,Qh6,Bf6,Rxf6,Nxc3,Nxg6,Ne2+,Kh2', 'Qxg3+,Kh1,Qxg2#', 'https://lichess.org/training/idAZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iDbVO', 'Classical', 'Gealber', 1799, 'Mad_Hatter13', 1689, 'e4,c5,Nf3,d6,Bc4,e6,O-O,Be7,Re1,Nd7,d4,cxd4,Nxd4,Ngf6,Nc3,a6,Bf4,e5,Bxe5,dxe5,Nf5,O-O,Re3,Bc5,Rg3,Qc7,Rxg7+,Kh8,Qf3,Bxf2+,Kxf2,Qxc4,Qg3,Qxc3', 'Rxh7+,Nxh7,Qg7#', 'https://lichess.org/training/iDbVO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IDckJ', 'Classical', 'hamoda0022', 1630, 'khtabkhmal', 2015, 'e4,Nc6,d4,d5,e5,Bf5,Bd3,e6,Bxf5,exf5,f4,Qh4+,g3,Qe7,Nf3,O-O-O,Qd3,g6,Bd2,Nh6,Nc3,Ng4,h3,Nh6,O-O-O,a6,Rde1,Bg7,Ng5,Qd7,Re2,Ng8,e6,fxe6,Nxe6,Nf6,Nxd8,Rxd8,Rg1,Ne4,g4,Nxd4,Reg2,Nc5,Qg3,Kb8,gxf5,Qxf5,Be3,Ne4,Nxe4,Qxe4,Bxd4,Qxd4,c3,Qc4,f5,Bh6+,Kb1,Qe4+,Ka1,Qxf5,Qh4,Rf8,a3,Be3,Rd1,Qf3,Qg4,Qf7,Re2,d4,cxd4,Qb3,Rde1,Bh6,Qd7,Rf7,Re8+,Ka7,Qd8,Bd2,Qb8+,Kb6,R8e6+,Ka5,R1e5+,b5,Qb7', 'Rf1+,Re1,Rxe1+,Rxe1,Bxe1', 'https://lichess.org/training/IDckJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IDczR', 'Rapid', 'Titib', 1732, 'Daniel160316', 1801, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Bb4,Nf3,O-O,e3,Nbd7,cxd5,exd5,Rc1,h6,Bh4,Re8,Be2,b6,O-O,Bb7,Bd3,Bxc3,bxc3,c5,Bb1,c4,Qc2,Nf8,Ne5,Bc8,h3,g6,Qe2,g5,Bg3,Ne4,Qh5,Qf6,Bxe4,dxe4,h4,g4,Nxg4,Bxg4,Qxg4+,Kh7,h5,Ne6,Be5,Qe7,Qxe4+,Kg8,Qg4+,Kh7,d5,Qg5,Qe4+,f5,Qxc4,Rac8,Qd3,Nc5,Qe2,Rxe5,c4,f4,e4,Rxe4,Qf3,Rg8,Rfd1,Qg4', 'Qxg4,Rxg4,f3,Rxg2+,Kxg2', 'https://lichess.org/training/IDczR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iddUF', 'Blitz', 'Milann', 1788, 'woethe', 1704, 'd3,Nf6,d4,d6,c4,g6,Nc3,c6,e4,Bg7,f3,Nbd7,Be3,e5,d5,O-O,Bd3,a6,Nge2,c5,g4,b5,cxb5,axb5,Bxb5,Rb8,a4,Qa5,Bd2,Qc7,Kf2,c4,Be3,Nb6,Qd2,Bxg4,fxg4,Nxg4+,Kg3,f5,exf5,gxf5,Bxb6,Qxb6,Raf1,e4,h3,Be5+,Kh4,Qd8+,Qg5+,Qxg5+,Kxg5,h6+,Kh5,Nf6+,Kxh6,Rb7,Rhg1+,Kh8,Rg6', 'Rh7+,Kg5,Rh5#', 'https://lichess.org/training/iddUF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iDe0t', 'Blitz', 'VISHAN160261', 1580, 'Lenstroyer', 1601, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Be7,Be3,Nf6,Bd3,b6,Nf3,Bb7,Nbd2,O-O,h4,Nd5,Qe2,a5,Ng5,h6,O-O-O,Nxe3,fxe3,Bxg5,hxg5,Qxg5,Be4,Bxe4,Nxe4,Qf5,Qd3,Nd7,Rdf1,Qd5,Kb1,Rac8,Nc3,Qg5,Ne4,Qd5,g4,c5,g5,c4,Nf6+,Nxf6,Qe2,Qxg5,Rfg1,Qb5,Rxh6,g6,Qh2,c3', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/iDe0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iDEbt', 'Rapid', 'MilanLukic', 1804, 'museveni', 1884, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,c3,Nf6,Nf3,e6,Bc4,Be7,a3,Qd6,Ne5,Nbd7,f4,O-O-O,O-O,Nd5,Qe2,f6,Nxd7,Rxd7,Ne4,Bxe4,Qxe4,f5,Qc2,h5,b4,b5,Bb3,h4,h3,Rg8,a4,g5,axb5,cxb5,c4,Nxb4,Qc3,Rc7', 'c5,Qc6,Qxb4', 'https://lichess.org/training/iDEbt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IDfDU', 'Blitz', 'Goldhorse', 1965, 'climberek', 2059, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Be7,d4,Ngf6,dxc5,Nxc5,Bf4,O-O,Nbd2,Nd3,Bg3,Nxb2,Qb3,Nd3,Qxb7,Bc5,Qa6,Nb2,Rab1,Nc4,Nxc4,dxc4,Qxc4,Rc8,Qa4,Bb6,Bh4,Rxc3,Rbd1,Qc7,Bxf6,gxf6,Qh4,Qc6,Nd4,Bxd4,Rxd4,Rc5,Rf4,f5,Rf3,Kh8,Qd4+,f6,Re3,Rg8,g3,Rd5,Qxa7,f4,Re7,Rh5,Rc7,Qf3,Qd4,fxg3,fxg3', 'Rxg3+,hxg3,Qxg3#', 'https://lichess.org/training/IDfDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('idj0f', 'Blitz', 'IM Themagic79', 2427, 'WIM malybalaganiarz', 2345, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,f4,g6,Nf3,Bg4,O-O,Bxf3,Qxf3,Bg7,f5,gxf5,Bxf5,e6,Bd3,h6,Bf4,Qe7,Bb5,Rc8,Bxc6+,Rxc6,Be5,Ne4,Bxg7,Rg8,Bf6,Qc7,Qf4,Qb6,b4,Kd7,Nd2,Nxc3,Kh1,Qxb4,Nf3,Kc8,Ne5,Rc7,Rfc1,Qb2,Nd3', 'Qxg2#', 'https://lichess.org/training/idj0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IDkqG', 'Classical', 'tutamon', 1696, 'alex78rus', 1823, 'e3,e5,d4,e4,Ne2,d5,Nf4,Nf6,c4,c6,Nc3,g5,Nh3,h6,c5,Be6,b4,a6,Be2,Qd7,Ng1,g4,Bd2,h5,Na4,Qe7,Nb6,Ra7,a4,Nfd7', 'Nc8,Qd8,Nxa7', 'https://lichess.org/training/IDkqG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IDLbO', 'Blitz', 'hasanant', 1528, 'topo7799', 1571, 'g3,Nf6,Bg2,g6,d3,Bg7,Bg5,O-O,Bxf6,Bxf6,Nc3,Re8,e3,d6,Nge2,Nd7,O-O,e5,a3,Bg7,Bd5,c6,Ba2,Nf6,f4,Bh3,Rf2,Ng4,Ne4,Nxf2,Nxf2,Be6,fxe5,Bxa2,Rxa2,Rxe5,e4,Qe7,Ng4,Rh5,Nf4,Rb5,b4,c5,Qf1,cxb4,axb4,Rxb4,Nd5,Qd8,Nxb4,Qb6+,Kg2,Qxb4,Ra1,Bxa1,Qxa1,Qd2+,Kh3,Qxc2', 'Nh6+,Kf8,Qh8+,Ke7,Qxa8', 'https://lichess.org/training/IDLbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IDMRu', 'Rapid', 'Alanes', 1696, 'CeoPablo', 1699, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,O-O,d6,c3,Nf6,cxd4,Nxd4,Nxd4,O-O,Nc3,a6,Bg5,h6,Bh4,b5,b3,bxc4,Nd5,g5,Bg3,Nxe4,h4,Be6,bxc4,Bxd5,cxd5,Qf6,Nf3,Nxg3,hxg5,hxg5,Kh2,Nxf1+,Qxf1,Qh6+,Kg1,g4,Nh2,g3,Ng4,Qh5', 'Nf6+,Kh8,Nxh5,Bxf2+,Kh1', 'https://lichess.org/training/IDMRu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('idn4G', 'Rapid', 'fresh_wind', 2344, 'Sergeyserebryakov', 1857, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,N5c3,Nf6,Bd3,Bb4,O-O,O-O,a3,Ba5,Bg5,h6,Bh4,d6,Nd5,Be6,b4,Bc7,Nbc3,g5,Bg3,Nd4,h4,g4,Qd2,Nxd5,exd5,Bf5,Qxh6,Bxd3,cxd3,f5,Qg6+,Kh8,f4,Bb6,Kh2,Rf6,Qh5+,Kg7,fxe5', 'Rh6,Qxh6+,Kxh6', 'https://lichess.org/training/idn4G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IdOCq', 'Rapid', 'norat', 1763, 'Sergnik', 1797, 'e4,d6,h3,g6,Nf3,Bg7,c3,e5,b3,Nf6,d3,O-O,Bb2,Nbd7,d4,exd4,cxd4,b6,e5,Nd5,Bc4,c6,exd6,Re8+,Be2,N7f6,O-O,Qxd6,Nc3,Bb7,Nxd5,Nxd5,Nd2,b5,Bf3,Nf4,Ne4,Qc7,Re1,Rad8,Nc5,a5,Qd2,b4,Nxb7,Qxb7,Rxe8+,Rxe8,Qxf4,Qb6,Rb1,Rd8,d5,Bxb2,Rxb2,cxd5,Rd2,d4,Be2,Qc5,Bc4,Rd7,Rxd4,Rxd4', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/IdOCq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('idqEj', 'Rapid', 'KillaUnknown', 1946, 'radithya', 1673, 'd4,d5,Bf4,Nf6,e3,Bf5,c4,e6,Qb3,Nbd7,Qxb7,Bd6,Bg3,Bxg3,hxg3,Rb8,Qxa7,Rxb2,Nd2,O-O,Ngf3,Ne4,Qa3,Qb8,Bd3,Ndf6,cxd5,exd5,Rd1,Bg6,O-O,Qb7,Nb3,Rxf2,Rxf2,Nxf2,Kxf2,Ng4+,Ke2,Bxd3+,Rxd3,Re8,Nc5,Qb5,Qb3,Rxe3+,Kd2,Qa5+,Kc2,Re2+,Rd2,Re8,a4,Ne3+,Kb2,Nc4+,Ka2', 'Nxd2,Qb5,Qxb5', 'https://lichess.org/training/idqEj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IdqoG', 'Rapid', 'Mannu2410', 1730, 'vikprihod', 1673, 'e4,e5,Nf3,d6,Bc4,h6,c3,c6,h3,Be7,d4,b5,Bd3,Qc7,dxe5,dxe5,O-O,Bb7,Re1,Nd7,c4,a6,cxb5,axb5,Nc3,Bf6,a4,b4,Na2,Qa5,Bd2,Be7,Bc2,Ngf6,b3,O-O,Qc1,c5,Bxh6,gxh6,Qxh6,Nh7,Rad1,Ndf6,Nxe5,Ra6,Re3,Nd5', 'Rg3+', 'https://lichess.org/training/IdqoG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iDRhU', 'Rapid', 'MiZo41', 1767, 'gramoz', 1783, 'e4,b6,d4,Bb7,Nc3,e6,a3,g6,Nf3,Bg7,Be3,Nf6,Be2,Nxe4,Nxe4,Bxe4,O-O,Bb7,c3,O-O,Bd3,d5,Ne5,Bxe5,dxe5,Nd7,f4,Qh4,g3,Qh6,h4,Nc5,Bc2,Ba6,Rf2,Ne4,Bxe4,dxe4,Rh2,Bd3,g4,Rad8,h5,Ba6,Qe1,Rd3,hxg6,Qxg6,Qf2,Rfd8,f5,exf5,Rh6,Qxg4+,Kh2,Kh8,Rg1,Qf3', 'Rxh7+,Kxh7,Qh4+,Qh5,Qxh5#', 'https://lichess.org/training/iDRhU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('idRM3', 'Bullet', 'randeto', 2117, 'Magnusmessi10', 2073, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,d5,exd5,O-O,O-O,cxd5,Bg5,c5,Bxf6,Qxf6,Nxd5,Qxb2,Bxh7+,Kxh7', 'Qh5+,Kg8,Ne7#', 'https://lichess.org/training/idRM3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IdrQj', 'Rapid', 'ziababa121', 1827, 'BENITO17', 1810, 'd4,e6,c4,d6,Nc3,Nd7,e4,Ne7,f4,Ng6,h3,Be7,Nf3,Bh4+,Ke2,Bg3,Kd3,Bxf4,Kc2,Bxc1,Rxc1,c5,Kb1,O-O,Bd3,cxd4,Nxd4,e5,Nf3,Nc5,Nd5,Be6,Ka1,Qa5', 'b4,Qd8,bxc5', 'https://lichess.org/training/IdrQj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iDRXg', 'Rapid', 'djek', 1937, 'Gurkhey', 1794, 'e4,c6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,Bf5,Ne2,Nbd7,O-O,e6,Re1,Bd6,Ng3,Bxg3,hxg3,O-O,Bg5,h6,Bf4,c5,c3,Qb6,Qd2,Bg4,Na3,Bxf3,gxf3,Qc6,Kg2,Rad8,Nc2,b6,Rad1,Nd5,Be3,Nxe3+,fxe3,Nf6,Rh1,e5,Qe2,exd4,cxd4,Rfe8,dxc5,bxc5,Rxd8,Rxd8,Rd1,Re8,e4,Nh5,Rd5,Qg6,Qf2', 'Nf4+,Kh2,Nxd5', 'https://lichess.org/training/iDRXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('idsmb', 'Blitz', 'sunson', 1813, 'conteoliver', 1626, 'e4,e5,f4,d5,Nf3,Bg4,Be2,dxe4,Nxe5,Bxe2,Qxe2,f6,Qb5+,c6,Qxb7,fxe5,Qxa8,exf4,O-O,Bd6,Qxa7,Nd7,d4,c5,Bxf4,Bxf4,Rxf4,Qg5,Rxe4+,Ne7,Nd2,Qxd2,Rae1,O-O,Rxe7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/idsmb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iDUcm', 'Rapid', 'Ulisesjhm1510', 2003, 'ks6', 2257, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,Nge7,O-O,Nf5,g4,Nh4,Nbd2,cxd4,cxd4,h5,g5,Nf5,Nb3,Be7,h4,g6,Bf4,b6,Rc1,a6,Kg2,Nxh4+', 'Nxh4,Bxg5,Bxg5,Qxg5+,Kh3', 'https://lichess.org/training/iDUcm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iDuiw', 'Classical', 'FrenchSushi', 1955, 'Fatihsultan', 1739, 'e4,e6,d4,d5,Nd2,c5,exd5,Qxd5,Ngf3,cxd4,Bc4,Qd8,Nb3,Nc6,O-O,Nf6,Nbxd4,Nxd4,Nxd4,Bc5,c3,O-O,Bg5,h6,Bh4,Be7,Qf3,a6,Rad1,Qc7,Bb3,Rd8,Rfe1,Rb8,Bc2,b5,Qd3,Bb7,Bxf6,Bxf6,Qh7+,Kf8,Qh8+,Ke7', 'Nf5#', 'https://lichess.org/training/iDuiw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iDUix', 'Rapid', 'varista', 1878, 'sagari', 1838, 'f4,Nf6,Nf3,g6,d3,d5,e3,Bg7,Be2,O-O,O-O,c5,Qe1,Nc6,Nc3,d4,Nd1,dxe3,Bxe3,Ng4,Bxc5,Bxb2,Nxb2,Qd5,Bf2,Nxf2,Qxf2,Bg4,Nc4,Rad8,h3,Bxf3,Bxf3,Qd4,Bxc6,bxc6,Qxd4,Rxd4,Rab1,e6,Rb7,a6,g3,Rfd8,Ne5,R8d6,Nxf7,R6d5,Ng5,Ra4,Ra1,Rc5,Nxh7,Rxc2,Nf6+,Kf8,Ne4,Ra3,Rb3,Raxa2,Rxa2,Rxa2,Nc5,a5,Nxe6+,Ke7,Nc5,a4,Rc3,a3,Kf1,Ra1+,Ke2,a2,Nb3,Rb1,Kd2', 'Rxb3,Rxb3,a1=Q', 'https://lichess.org/training/iDUix');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IdVFr', 'Rapid', 'Cuello', 1855, 'CasparOuf', 1673, 'e4,e5,Bc4,Nc6,d3,d6,f4,Be7,f5,Nf6,Nf3,d5,exd5,Nxd5,O-O,Bxf5,Nxe5,Be6,Nxc6,bxc6,Qf3,O-O,Qg3,Bh4,Qf3,Qd7,Nd2,Bg4,Qe4,Rae8,Qd4,Be7,Ne4,Be6,Bxd5,Bxd5,Qf2,Bd6,Bh6,Bxe4,dxe4,gxh6,Qh4,Qe6,Rf6,Be7', 'Qg3+,Kh8,Rxe6', 'https://lichess.org/training/IdVFr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('idw0q', 'Rapid', 'CanatoC', 2037, 'abdulkadirfb', 2056, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bg5,g6,Nf3,Bg7,Qd2,O-O,Be2,Bg4,O-O-O,c6,h3,Bxf3,Bxf3,Nbd7,Rhe1,e6,Ne4,Qb6,Kb1,Nxe4,Bxe4,Nf6,Bh6,Nxe4,Rxe4,Rad8,Bxg7,Kxg7,c3,Qa5,Qe2,Qf5,g4,Qg5,f4,Qh4,Qf3,Rd5,Re5,Rfd8,Rxd5,Rxd5,c4,Rd7,a3,Qf6,Qe3,Qd8,Qe5+,Qf6,Kc2,Qxe5,fxe5,Kh6,Kd3,Kg5,Ke4,a6,Rd3,h5,gxh5,Kxh5,d5,exd5+,cxd5,cxd5+,Rxd5,Rxd5,Kxd5,Kh4', 'Kd6,Kxh3,Ke7,g5,Kxf7,g4,e6,g3,e7', 'https://lichess.org/training/idw0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IdwL0', 'Rapid', 'Damian_Fabian', 2030, 'slaz1223', 1995, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,h3,Nc6,c3,Bf5,Bd3,Bxd3,Qxd3,e6,O-O,Bd6,b4,O-O,Bg5,Rc8,Nbd2,h6,Bh4,Be7,a4,Nd7,Bg3,Bf6,Rfe1,Nb6,a5,Nc4,Nxc4,dxc4,Qe3,Qd5,Nd2,Rfe8,Rad1,e5,dxe5,Nxe5,Qxa7,Nd3,Rxe8+,Rxe8,Nb1,Qh5,Rf1,Be5,Bxe5,Rxe5,Qxb7,Rg5,Kh2,Qe2,Rg1,Qe5+,g3,Qe2,Rg2,Ne1,a6', 'Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/IdwL0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ie0Ay', 'Rapid', 'RalfZickler', 1846, 'Jacksito', 1914, 'e4,e5,Nf3,d6,Bc4,h6,c3,Nf6,Qc2,Be7,d4,exd4,cxd4,O-O,h4,c6,Qe2,b5,Bd3,Bg4,Be3,Nbd7,Qd2,h5,Nh2,a5,f3,Be6,Qe2,c5,d5,Nxd5,exd5,Bxd5,Bxb5,Bxh4+,Kf1,Re8,Qd2,Re5,Nc3,Nb6,b3,Qe7,Bf4,Rf5,Bd3,Rxf4,Qxf4,Bg5,Qg3,Qf6,f4,Qxc3', 'Bh7+,Kxh7,Qxc3', 'https://lichess.org/training/Ie0Ay');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IE1b5', 'Classical', 'abazoo', 1839, 'Julio60', 1860, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,Nge7,Be2,O-O,Bf3,Ne5,Be2,d6,O-O,h6,Nd2,a5,f4,N5g6,Qc1,Nc6,N2f3,Bg4,Qd2,Bxf3,Rxf3,Rfe8,Nxc6,Bxe3+,Qxe3,bxc6,Bd3,c5,Bb5,Re7,Bc6,Rb8,b3,Nh4,Rff1,Ng6,g3,Rb6,Ba4,d5,e5,Qf5,Qxc5,Qd3,Qd4,Qxd4+,cxd4,Rb4,Rfd1,Nf8,Rac1,Ne6,Bc6,Nxd4,Kf2,Nxc6,Rxc6,d4,Ke2,a4,Rc4,Rxc4,bxc4,c5,Rb1,f6,Rb5,fxe5,Rxc5,exf4+,Kf3,fxg3,hxg3,Re3+,Kf2,Ra3,Rd5,Rxa2+,Kf3,Ra3+,Ke4,Rxg3,Kxd4,a3,Ra5,g5,c5,Rg4+,Kd5,Rg3,c6,Rd3+,Ke6,Rc3,Kd6,g4,c7,Kf7,Rxa3,Rxa3', 'c8=Q,Rd3+,Ke5', 'https://lichess.org/training/IE1b5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ie54T', 'Rapid', 'sunjoto', 1715, 'Multiplesneezes', 1703, 'd4,e6,e4,c5,c3,cxd4,cxd4,Nc6,Nf3,b6,Bb5,Bb7,O-O,Nf6,Bg5,Be7,e5,Nd5,Bxe7,Ncxe7,Nc3,O-O,Nxd5,Nxd5,Rc1,f6,Bd3,fxe5,Nxe5,Nf4,f3,Qg5,g4,d6,Nc4,Nh3+,Kg2,Qh4,Nxd6,Nf4+,Kh1,Nxd3,Qxd3,Bd5,Rc7,Qxg4,Ne4,Bxe4,Qxe4', 'Qxe4,fxe4,Rxf1+', 'https://lichess.org/training/Ie54T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iE5rE', 'Blitz', 'lalan123', 1694, 'coskunomer', 1642, 'e4,c5,Nf3,d6,Be2,a6,O-O,Nf6,e5,dxe5,Nxe5,Qc7,Nf3,e6,b3,b5,Bb2,Bb7,Bxf6,gxf6,d4,Rg8,c4,Bd6,d5,exd5,cxd5,Nd7,h3,O-O-O,a4,b4,Bc4,Rg7,Nbd2,Rdg8,Nh4,Ne5,Qe2,Nxc4,Nxc4,Bh2+,Kh1,Bxd5,Rad1,Rxg2,Rxd5', 'Rg1+,Rxg1,Rxg1#', 'https://lichess.org/training/iE5rE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iE60D', 'Rapid', 'asdfqwerasdfqwer', 1623, 'ZGT_3', 1613, 'e4,c6,d4,e5,dxe5,Qa5+,Nc3,Qxe5,Nf3,Qa5,Bc4,b5,Bxf7+,Kxf7,Ne5+,Ke6,Qg4+,Kxe5,Qf5+,Kd6,Qxf8+,Kc7,Qxg8,Rxg8,Bf4+,d6,O-O-O,Rf8,Bxd6+,Kb7,Bxf8,b4,Nb1,Qxa2,Bxb4,Qc4,Bc3,Qxe4,Nd2,Qa4,Rhe1,Bf5,Nb3,Qf4+,Bd2,Qc4', 'Na5+,Ka6,Nxc4', 'https://lichess.org/training/iE60D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IE65s', 'Rapid', 'mohamadreza_ghasemi', 1992, 'Gfetahi', 1932, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Be2,Nc6,O-O,e5,d3,Bd6,Nbd2,O-O,Ne4,Bf5,Nxd6,cxd6,c3,Nf4,Bxf4,exf4,Qd2,Re8,Rfe1,g5,h3,h5,d4,Qd7,Nxg5,f6,Nf3,Bxh3,gxh3,Qxh3,Qxf4,Kh7,Qxf6,Rg8+,Ng5+,Rxg5+,Qxg5,Rg8,Qxg8+,Kxg8,Bf1,Qg4+,Bg2,Kf7,Re4,Qg5,f4,Qg4,Rae1,h4,R4e3,a5,f5,a4,a3,Na5,Re7+,Kf8,f6,Nc6,Rg7,Qf5,Bxc6,bxc6,Ree7,Qxf6,Rh7,Kg8,Ra7,Qg5+,Kf1,Qc1+,Kg2,Qxb2+,Kh1', 'Qb1+,Kh2,Qxh7,Rxh7,Kxh7', 'https://lichess.org/training/IE65s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ie8Aj', 'Rapid', 'Nerdinator', 1729, 'robertfisher1', 1647, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Be7,O-O,O-O,Be3,h6,c4,Ng4,Qd2,Nxe3,Qxe3,d6,Nc3,Bd7,Bxc6,Bxc6,Nd5,Bg5,Nxg5,hxg5,h3,Bd7,g4,a5,b3,Ra6,Kg2,c6,Nc3,Qc8,Qxg5,f6,Qe3,b5,f4,b4,Ne2,c5,a4,bxa3,Rxa3,a4,bxa4,Qb7,Nc3,Qb2+,Rf2,Qxa3,Nd5,Re8,fxe5,Rxa4,exf6,Rf8,Ne7+,Kh7,Qg5,Rxf6,Rxf6,Qb2+,Kf3', 'Qxf6+,Qxf6,gxf6', 'https://lichess.org/training/Ie8Aj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ie91b', 'Rapid', 'merab1993', 1702, 'dmialant', 1996, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be2,b5,O-O,Bb7,f3,Bc5,Be3,e5,Nf5,g6,Bxc5', 'Qxc5+,Kh1,gxf5', 'https://lichess.org/training/ie91b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IE9Pe', 'Rapid', 'Khan9', 1673, 'Elothor03', 1658, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nxd4,Qxd4,b6,Bb5,Nf6,O-O,Bc5,Qe5,O-O,a3,d6,Qg3,d5,Bg5,Bd4,e5,Nh5,Qg4,f6,exf6,Bxf6,Bh6,e5,Qxh5,gxh6,b3,d4,Nd5,Qxd5', 'Bc4,Qxc4,bxc4', 'https://lichess.org/training/IE9Pe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ieb8q', 'Rapid', 'marko_mostar', 1834, 'mansurov222', 1852, 'd4,Nf6,c4,e6,Nc3,c5,d5,exd5,cxd5,d6,h3,g6,Nf3,Bg7,e4,a6,a4,O-O,Bd3,Re8,O-O,Nbd7,a5,Rb8,Ne2,Ne5,Nxe5,Rxe5,Bf4,Re8,Nc3,Nh5,Bh2,Be5,f4,Bd4+,Kh1,Qh4,Qf3,b5,f5,gxf5,Bxd6,Rb7,exf5,Re3,Qd1', 'Rxh3+,gxh3,Qxh3+,Bh2,Ng3#', 'https://lichess.org/training/Ieb8q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IeCLF', 'Rapid', 'Harav-Shach', 1604, 'Namussuz', 1702, 'e4,e5,Nf3,Bc5,Nc3,d6,Bc4,Nf6,d3,Bg4,h3,Bh5,g4,Bg6,Bg5,h6,Bxf6,gxf6,Nd5,Nc6,a3,a5,Bb5,O-O,c3,Re8,h4,Re6,h5,Bh7,Qd2,Kg7,Bxc6,bxc6,b4,axb4,Nxb4,Bxb4,cxb4,Ra4,Qc2,Qa8,O-O,Rxa3,Rxa3,Qxa3,Qb1,d5,Nd2,dxe4,dxe4,Qh3,f3,Rd6,Qe1,Rd4,Qf2,Rxb4,Rc1,Rb6,Nc4,Rb3,Nd2,Rb6,Nf1,Ra6,Qg2,Qh4,Ne3,Qg5,Qd2,Qf4,Nf1,Qxf3,Rc3,Qxg4+', 'Rg3,Qxg3+,Nxg3', 'https://lichess.org/training/IeCLF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ied6V', 'Rapid', 'NonoHaryono1977', 2210, 'Ben2006Tor', 2186, 'e4,e5,Nf3,Nc6,Bb5,f5,Bxc6,dxc6,O-O,Nf6,Nxe5,Bd6,Nc4,Bxh2+,Kxh2,Ng4+,Kg3,Qg5,d3,Ne3+,Kf3,fxe4+,Kxe4,Bf5+,Kd4,O-O-O+,Kc3,Nxd1+,Rxd1,Qf6+,Kb3,b5,Na5,Be6+,c4,bxc4+,Nxc4,Qf7,Na3,Rd5,Be3,Rhd8,Kc3,Qf6+,d4,c5,Nb5,a6,Na7+,Kb7,Ne5,cxd4+,Bxd4,Rxd4,Rxd4,Qxe5,Nc6,Kxc6,Rd1,Kc5,b4+,Kb5,a4+,Kxa4', 'Ra1+,Kb5,Ra5+,Kc6,Rxe5', 'https://lichess.org/training/ied6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IedyW', 'Rapid', 'SuperG2020', 1921, 'MilanLukic', 1868, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,d3,Be7,dxe4,O-O,Nc3,Re8,Bg5,c6,Bxf6,Bxf6,dxc6,bxc6,Qd3,Qb6,O-O-O,a5,e5,Be7,Nd4,Ba6,Qe4,Bxf1,Rhxf1,Na6,Nxc6,Bb4,Nxb4,axb4,Nd5,Qa5,Qc4,Rac8,Qb3,Nc5,Qxb4,Qxa2,Qa3', 'Nb3+,Qxb3,Qxb3', 'https://lichess.org/training/IedyW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ieDZt', 'Rapid', 'BUGYC', 1868, 'vinchesss123', 1818, 'e4,c5,Nf3,d6,c3,Bg4,d4,Nc6,d5,Ne5,Bb5+,Nd7,O-O,a6,Ba4,b5,Bc2,Bh5,c4,b4,a3,a5,axb4,axb4,Rxa8,Qxa8,Ba4,Nf6,Bg5,Bxf3,Bxd7+,Nxd7,Qxf3,Ne5,Qb3,g6,f4,Nd7,Nd2,Bg7,Qc2,f6,Bh4,O-O,Nb3,Qa4', 'Ra1,Qxa1+,Nxa1', 'https://lichess.org/training/ieDZt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IeE7E', 'Blitz', 'kra22', 1683, 'checomdp', 1678, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nf6,Bb5+,Nc6,O-O,Bg4,h3,Bh5,Qd3,Be7,g4,Bg6,Qe3,O-O,Bxc6,bxc6,Ne5,cxd4,cxd4,Ne4,Nxc6,Qd6,Ne5,Rfc8,Nc3,Bg5,Qf3,Nxc3,bxc3,Be4,Qxf7+,Kh8,Bxg5,Rf8,Qd7,Qa6,a4,h6,Be3,Rae8,Ng6+,Kh7,Nxf8+,Rxf8,Qe7,Rf6,Rab1,Qe2,Rb7,Rg6,Rxa7', 'Rxg4+,hxg4,Qxg4+,Kh2,Qg2#', 'https://lichess.org/training/IeE7E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iefak', 'Rapid', 'SanFrancisco85', 2282, 'fredrook2018', 1804, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,e6,Bd3,Nc6,Nge2,Be7,O-O,O-O,h3,e5,d5,Nd4,Nxd4,exd4,Ne2,Qb6,Qa4,Re8,Qxd4,Qxd4,Nxd4,Bd8,Nb5,Nxe4,Bxe4,Rxe4,Nxd6,Rd4,Re1,Bd7,Be3,Rxd5,Nxb7,Bf6,Rad1,Be6,b3,Rb8,Nc5,Rxd1,Rxd1,Bf5,Nd7,Bxd7,Rxd7,a5,Ra7,Bc3,Bb6,h6,Bxa5,Be5,Bd2,Rd8,Be1,Rd1,Kf1,Bc3,Ra8+,Kh7,Re8,Ra1,Re2,Bxe1,Rxe1,Rxa2,Rb1,Ra8,b4,Rb8,Ke2,Kg8,Kd3,Kf8,Kd4,Ke7,Kc5,Kd7,b5,Kc7,b6+,Kb7,Ra1,Ra8,Rxa8,Kxa8,Kc6,Kb8,b7,f6,f3,g6,g3,f5,g4,fxg4,hxg4', 'h5,Kd6,h4,f4,h3', 'https://lichess.org/training/Iefak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iEfLe', 'Rapid', 'fotioszog', 1898, 'karo56', 1865, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Qe2,e6,g3,Ngf6,Bg5,Qa5+,c3', 'Nxe4,Qxe4,Qxg5', 'https://lichess.org/training/iEfLe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ieFoI', 'Rapid', 'Alagrom2', 1842, 'ShivamIND', 1781, 'g3,d5,Nf3,b6,d4,Bb7,Bg2,Nc6,c4,e6,cxd5,Qxd5,Nc3,Qd7,O-O,Nf6,Bg5,Be7,e4,O-O,e5,Nd5,Bxe7,Qxe7,Nxd5,exd5,a3,f6,Re1,fxe5,dxe5,Rad8,Rc1,d4,Nxd4,Nxd4,Bxb7,c6,Ba6', 'Nf3+,Qxf3,Rxf3', 'https://lichess.org/training/ieFoI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IEhej', 'Rapid', 'Ikllu', 1887, 'Anaxunamoon23', 2270, 'b4,e6,Bb2,d5,e3,a6,Nf3,Nc6,a3,Nf6,Be2,Bd6,h3,Bd7,c4,O-O,O-O,e5,cxd5,Nxd5,b5,axb5,Bxb5,e4,Bxc6,Bxc6,Nd4,Be5,Nxc6,bxc6,Bxe5,Qe7,Bg3,Rfe8,d3,Qf6,Nd2,exd3,Nf3,Qf5,Nd4,Qg6,Qc1,Nxe3,Re1,Nc2,Rxe8+,Rxe8,Nxc2,dxc2,Bf4,Rb8,Qe1', 'Rb1,Kh2,Rxe1', 'https://lichess.org/training/IEhej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IeHId', 'Rapid', 'ChessBlues90', 2241, 'FloWhite', 1751, 'd4,f5,Bg5,h6,Bh4,Nf6,Bxf6,exf6,Nc3,d5,Qd3,Be6,O-O-O,Bd6,Nh3,O-O,e3,a6,Be2,b5,Nf4,Bxf4,exf4,b4,Na4,Qd6,Nc5,Qxf4+,Kb1,Re8,Nxe6,Rxe6,Bf3,c6,g3,Qd6,Qxf5,Nd7,Bg4,Rae8,Qd3,Re4,Bf5,Re2,Bh7+,Kh8,Bg6,R8e6,Qxa6,Rxf2,Qc8+,Nf8,Rhe1,Rfe2,Rxe2,Rxe2,Bd3,Rxh2,Re1,g5,b3,Kg7,Re8,Rh1+,Kb2,Rg1,Qf5,Rxg3,Rxf8,Kxf8,Qc8+,Ke7,Qg8,h5,Qh7+,Ke6', 'Bf5#', 'https://lichess.org/training/IeHId');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IEI60', 'Rapid', 'Miles63', 2127, 'HazemHassaneinMosta', 2091, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,c3,Na5,Bc2,c5,Nxe5,Qc7,d4,Bb7,Nf3,cxd4,cxd4,Rac8,Bd3,Rfe8,b3,Bb4,Bd2,Bxd2,Qxd2,Bxe4,Ne5,d6,Bxe4,dxe5,Bf5,Rcd8,Rc1,Nc6,Qc3,Rxd4,Nd2,Qd6,Nf3,Nb4,Nxd4,exd4,Qc5', 'Re1+,Rxe1,Qxc5', 'https://lichess.org/training/IEI60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IeIP6', 'Blitz', 'FM TC58', 2385, 'Viennaconcert', 2219, 'e4,c5,Nc3,Nc6,Bb5,Nd4,Nf3,Nxb5,Nxb5,a6,Nc3,g6,d4,cxd4,Qxd4,Nf6,e5,Nh5,Nd5,e6,Nb6,Rb8,c4,Qc7,Be3,Ng7,g4,h5,Ng5,hxg4,Ne4,Be7,c5,Nf5,Nd6+,Bxd6', 'exd6,Nxd4,dxc7', 'https://lichess.org/training/IeIP6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IeJ8A', 'Rapid', 'tola12', 1932, 'SalehRaden', 1968, 'd4,e6,c4,d6,Nf3,c6,Nc3,Na6,a3,Nc7,e4,Be7,Bd3,f6,e5,d5,cxd5,exd5,exf6,Nxf6,O-O,Bg4,Qe2,Bxf3,Qxf3,O-O,Qe2,Qd7,Bf4,Bd6,Bg5,Rae8,Qd2,Ne6,Bxf6,Rxf6,Ne2,Rh6,Ng3,Nxd4,Bxh7+,Rxh7,Qxd4,Re4,Qxa7,Reh4,h3,R7h6,Qe3', 'Rxh3,gxh3,Qxh3', 'https://lichess.org/training/IeJ8A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iEjFm', 'Rapid', 'hoppala69', 2015, 'jul4567', 2024, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,d5,exf6,dxc4,fxg7,Bxg7,O-O,Bg4,Re1+,Ne7,Bg5,f6,Bh4,Qd7,Nbd2,O-O-O,Nxc4,Nf5,Bg3,Nxg3,hxg3,Qb5,Qd3,Bf5', 'Nd6+,Rxd6,Qxb5', 'https://lichess.org/training/iEjFm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iEJIm', 'Rapid', 'CoachBen42', 1702, 'TKSPHLCoachLuke', 2251, 'e4,d5,e5,d4,Nf3,a6,c3,Nc6,cxd4,Nxd4,Nc3,Bg4,Be2,Nxe2,Qxe2,e6,h3,Bh5,g4,Bg6,d4,Bb4,Bd2,Ne7,a3,Ba5,b4,Bb6,O-O,O-O,Be3,f5,exf6,Rxf6,Ne5,Nd5,Ne4,Bxe4,Bg5,Bg6,Bxf6,Qxf6,Nd7,Qh4,Qxe6+,Bf7,Qf5,Qxh3,Ne5,Be8', 'Qe6+,Kh8,Qxd5', 'https://lichess.org/training/iEJIm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IekZr', 'Bullet', 'essamagypt', 2050, 'Tacticsman', 2084, 'e4,c5,Nf3,Nf6,Nc3,d5,exd5,Nxd5,Bc4,Nb6,Be2,Nc6,O-O,Bf5,d3,e6,Re1,Be7,Bf4,O-O,Qd2,Nd5,Nxd5,exd5,Ne5,Nd4,c3,Ne6,Bg3,Bg6,Nxg6,hxg6,Rad1,f5,Bf3,Qd7,Qe2,Kf7,Be5,Ng5,d4,Ne4,Bxe4,fxe4,f3,exf3,Qxf3+,Kg8,Qg3,Kh7,Qe3,cxd4,Bxd4,Rae8,Qe6,Qxe6,Rxe6,Bf6,Rde1,Rxe6,Rxe6,Bxd4+,cxd4,Rf4,Re7,Rxd4,Rxb7,a5,Kf2,g5,Ke3,Re4+,Kf3,g4+,Kf2,Kh6,Rb5,Rd4,Rxa5,Rd2+,Kg3,Rxb2,Rxd5,Rxa2,Rd4,Kh5,h3,Ra3+,Kh2', 'g3+,Kg1,Ra1+,Rd1,Rxd1#', 'https://lichess.org/training/IekZr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IeMCb', 'Rapid', 'apertura', 1661, 'toibtobi', 1648, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,d4,Bd7,Bxc6,Bxc6,d5,Bd7,Be3,c6,Qd2,cxd5,Nxd5,Nxd5,Qxd5,Bc6,Qc4,Be7,O-O-O,h6,Nxe5,dxe5,Rxd8+,Rxd8,Bxa7,O-O,g4,Rd7,h4,Rfd8,b3,b5,Qxc6', 'Ba3+,Kb1,Rd1+,Rxd1,Rxd1#', 'https://lichess.org/training/IeMCb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iemDG', 'Classical', 's1729', 1783, 'zuzu1', 1781, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,Bb4+,Bd2,Bxd2+,Qxd2,Nf6,O-O,O-O,Re1,c6,Ba4,d6,c3,b5,Bc2,Qb6,a4,Ng4,axb5,cxb5,Na3,Bd7,Rab1,a5,Bd1,Ne5,Be2,Qc5,Nc2,dxc3,bxc3,Ng6,d4,Qc8,Bxb5,Bxb5,Rxb5,Qg4,Qe3,Nh4,Rg5', 'Nf3+,Qxf3,Qxg5', 'https://lichess.org/training/iemDG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IeMf1', 'Rapid', 'Ahmed11244', 1730, 'PrinceznaKenny', 1719, 'Nf3,f5,Nc3,Nf6,d3,d6,Bg5,e5,Nd5,f4,g3,h6,Nxf6+,gxf6,Bh4,Bg4,gxf4,exf4,Bg2,Nd7,Qd2,Ne5,Qxf4,Be7,Nxe5,fxe5,Bxe7,exf4,Bxd8,Rxd8,Bxb7,Rb8,Bc6+,Kd8,f3,Be6,O-O-O,Bxa2,Rhg1,Rb6,Ba4,Rb4,b3,Rxa4,bxa4,Re8,Kb2,Bd5,c4,Bc6,Kb3,Rxe2,Rde1,Rxh2,Rg4,Bxf3,Rxf4,Rf2,Re3', 'Bd1+,Kc3,Rxf4', 'https://lichess.org/training/IeMf1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iEMGs', 'Blitz', 'Jakob256', 1934, 'upinzutu', 1673, 'd4,Nf6,c4,e5,dxe5,Ne4,Qd4,Bb4+,Bd2,Nxd2,Nxd2,Nc6,Qe3,O-O,f4,Re8,Nf3,d6,g3,f6,a3,Ba5,Qb3,dxe5,O-O-O,Be6,fxe5,Nxe5,Nxe5,fxe5,Nf3,Qf6,Qb5,Bb6,Qxe5,Qxe5,Nxe5,Bf5,Nd3,Be4,Bh3,Bxh1,Rxh1,Rxe2,Rf1,Rxh2,Be6+,Kh8,Nf4,Rf2', 'Ng6+,hxg6,Rh1+,Rh2,Rxh2#', 'https://lichess.org/training/iEMGs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IEOr3', 'Rapid', 'aydinnlik', 1644, 'pokestop', 1635, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bb4,Be3,Bxc3+,bxc3,Nge7,Qd2,d5,exd5,Nxd5,Bg5,f6,Bh4,O-O,Bd3,Ne5,Ne2,Bd7,O-O,Bc6,Ng3,Qe8,Ne4,Qh5,Bg3,f5,Be2,Ng4,Ng5,f4,Nxe6,fxg3,h3,gxf2+,Kh1,Nge3,Bxh5,Nf4,Qxf2,Bxg2+,Kg1,Bxf1,Nxf8', 'Nxh3+,Kh2,Nxf2', 'https://lichess.org/training/IEOr3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IEPke', 'Classical', 'Ak75599', 1657, 'commonsensei', 1694, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nd3,Nxe4,Qe2,Qe7,Nc3,Nf6,Qxe7+,Bxe7,g3,O-O,Bg2,c6,O-O,Re8,Nf4,Bf5,d3,d5,Nce2,Bc5,a3,a5,Bf3,Nbd7,d4,Bd6,c3,Ng4,h3,Ngf6,Nh5,Bxh3,Re1,Re6,Bg5,Nxh5,Bxh5,Nf6,Nf4,Rxe1+,Rxe1,Bxf4,Bxf6,Bd2,Re2,Bh6,Bh4,g5,Re7,Be6,Bxg5,Bxg5,Rxb7,Ra6,f4,Bh6,Rc7,Kg7,Kg2,Kf6,Kf3,Rb6,b4,axb4,axb4,Rb8,Rxc6,Ra8,b5,Ra3,b6,Rb3,g4,Ke7,Rc7+,Kd6,f5,Rxb6,Ra7,Bd7,Bxf7,Bd2,f6,Bxc3,Bg8,Bxd4,f7,Rb3+,Kg2,Ke7', 'Rxd7+,Kxd7,f8=Q', 'https://lichess.org/training/IEPke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IeQLU', 'Rapid', 'Biysk-chess', 1677, 'mehmeterkan', 1669, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nd7,Nf3,Ndf6,Bg5,Be7,Nc3,Be6,Bd3,Nd7,Bxe7,Nxe7,Qd2,Nc5,Ng5,Nxd3+,cxd3,Qd7,Qf4,Ng6,Qf3,f6,Nxe6,Qxe6,O-O,O-O-O,Qe3,Kb8,Nb5,b6,a4,c6,Nd4,Qd7,a5,c5,Nb3,b5,a6,Rhe8,Na5,Qc7,Nb7,Rd7,Rfc1,Qb6,Ra3,Rxb7,axb7,Kxb7,Rca1,Ra8,Qf3,Qc6,Ra6,Qxa6,Rxa6,Kxa6,e5,Rf8,Qc6+,Ka5,exd6,Kb4,d7,Ne5,Qd6,Rd8,Qe7', 'Rxd7,Qe6,Rxd3', 'https://lichess.org/training/IeQLU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IERZ2', 'Rapid', 'tenz07ibo', 2064, 'Objectively', 2193, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bd3,Bxd3,Qxd3,Ngf6,O-O,e6,Re1,Be7,c4,O-O,b3,c5,Bb2,cxd4,Nxd4,Nc5,Qd1,Qb6,Qe2,Rad8,Ndf5,exf5,Nxf5,Rfe8,Nxe7+,Kf8,Bxf6,Qxf6,Nd5', 'Rxe2,Nxf6,Rxe1+', 'https://lichess.org/training/IERZ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IESpX', 'Rapid', 'PpPpBbBb', 1697, 'rene_jimenezz', 1738, 'e4,e5,f4,exf4,Nf3,Qe7,Nc3,Nc6,Bc4,Nf6,d3,d6,O-O,Bg4,Bxf4,O-O-O,Qd2,Bxf3,Rxf3,Ne5,Bxe5,dxe5,Qf2,b6,Ba6+,Kb8,a4,Qe6,a5', 'Bc5,Qxc5,bxc5', 'https://lichess.org/training/IESpX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IEVVp', 'Rapid', 'weatuss', 1727, 'sajad219', 1759, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Nc3,Bb7,d3,O-O,Qd2,Bb4,a3,Ba5,Ba2,Nd4,Nxd4', 'exd4,b4,dxc3,Qxc3,Bb6', 'https://lichess.org/training/IEVVp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IeWwj', 'Rapid', 'LongJohn68', 1749, 'grognaak', 1827, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,Nf6,Qc2,d5,exd5,exd5,Bb5,a6,Bxc6+,bxc6,O-O,Be7,Ne5,Bd7,Re1,O-O,d4,cxd4,cxd4,Re8,Nxc6,Bxc6,Qxc6,Ne4,Nc3,Bf6,Nxd5,Bxd4,Be3,Bxb2,Rad1,Qc8,Qb6,Rb8,Qc7,Be5', 'Ne7+,Rxe7,Qxe7', 'https://lichess.org/training/IeWwj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iexLX', 'Rapid', 'xemi74', 1711, 'tedzikBR', 1633, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,a6,d4,cxd4,Nxd4,b5,Bb3,b4,Na4,Bd7,Be3,Bxa4,Bxa4+,Nbd7,Qf3,h5,e5,dxe5,Nc6,Qc7,O-O-O,e6,Nxe5,Qxe5,Qxa8+,Ke7,Qc6,g6,Bd4,Qf4+,Kb1,e5,Rhe1,e4,Bxf6+,Nxf6,Qc5+,Ke6,Qc8+,Ke7,Qd8+,Ke6,Bb3+,Kf5,Qc8+,Kg5,h4+,Qxh4,Rh1,Qf4,g3,Qxf2,Rhf1,Qg2,Rxf6,Kxf6,Qc6+,Kg7,Bc4,h4,g4,h3,Rf1,Kh6,Qf6,Bg7', 'Qh4#', 'https://lichess.org/training/iexLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IExYw', 'Rapid', 'bredevl', 1749, 'CRAZYPAINTER', 1759, 'd4,c5,e3,b6,c4,Bb7,Nf3,e6,Bd3,Nf6,O-O,Qc7,Nc3,a6,a4,Bd6,e4,cxd4,Nxd4,Bxh2+,Kh1,Be5,Be3,O-O,Re1,Rd8,Qc2,Ng4,f3,Nf6,Kg1,Nc6,Nde2,Nb4,Qd2,Nxd3,Qxd3,d5,cxd5,exd5,Rac1,Qd7,Bf4,Bd6,e5,Nh5', 'exd6,Nxf4,Nxf4', 'https://lichess.org/training/IExYw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ieyBs', 'Rapid', 'Blunderboy64', 1790, 'ArapBurak89', 1696, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,Bg7,Bd3,Na6,h3,O-O,a3,c5,e5,Ne8,Be3,cxd4,Bxd4,b6,exd6,Nxd6,Bxg7,Kxg7,Qd2,Bb7,O-O-O,Nc5,Be2,Qc7,h4,h5,Nd5', 'Nb3+,Kb1,Nxd2+', 'https://lichess.org/training/ieyBs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('if0CH', 'Rapid', 'castletroy', 1822, 'saber975', 1953, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nc3,Nf6,Bg5,Be7,Nxc6,bxc6,Bc4,O-O,O-O,Be6,Bd3,Qd7,Re1,Rab8,e5,dxe5,Rxe5,Nd5,Bxe7,Nxe7,Rxe6,Qxe6,Ne2,Nd5,Nd4,Qd6,Qg4,Nf6,Qh4,Rxb2,Nf5,Qe5,Qg5,g6', 'Nh6+,Kg7,Qxe5', 'https://lichess.org/training/if0CH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('if1Zv', 'Rapid', 'glocester', 1658, 'bobi43', 1594, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,c5,Qd3,Nc6,Qb5,Ne7,Nc3,a6,Qe2,b5,Nd5,b4,Bf4,a5,Bxd6,Qxd6,Qb5,Qb8,Nb6,Ra7,Ne5,Rb7', 'Nxc6,Rxb6,Nxb8+,Rxb5,Bxb5+', 'https://lichess.org/training/if1Zv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('If334', 'Rapid', 'srafaelz', 1941, 'dancantplay', 1976, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,Nf6,Be2,e6,g4,Be7,h4,O-O,g5,Nd7,Be3,d5,Qd2,Ne5,h5,a5,exd5,cxd5,Qd4,Nc6,Qh4,d4,O-O-O,Qb6,Bxd4,Nxd4,Rxd4,Bxg5+,Qxg5,Qxd4,Rg1,Bb7,h6,g6,Rg4,Qxf2,Qe5,f6,Qxe6+,Rf7,Bc4,Rf8,Qe7,f5,Bxf7+,Rxf7,Qe8+,Rf8,Rxg6+,hxg6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/If334');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IF34J', 'Rapid', 'fyurdusev', 1677, 'Tykkekrumpen', 1629, 'd4,Nf6,c4,d5,cxd5,Nxd5,Nf3,g6,e4,Nb6,Nc3,Bg7,Be3,Bg4,h3,Bxf3,Qxf3,N8d7,Bd3,e6,e5,Qe7,Qxb7,Qd8,O-O,O-O,Qf3,f6,exf6,Nxf6,Bg5,Qxd4,Bxf6,Qxf6,Qg3,Qe7,Nb5,Nd5,Rab1,c6,Nc3,Nxc3,bxc3,Bxc3,Rfc1,Bd4,Rc2,c5,Kh1,Bxf2', 'Rxf2,Rxf2,Qxf2', 'https://lichess.org/training/IF34J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IF4jw', 'Classical', 'thewallachian', 1613, 'antgskdsu', 1632, 'e4,e5,Nf3,Bc5,Bc4,c6,O-O,d5,exd5,Bg4,dxc6,Nxc6,Be2,e4,Ne1,Bf5,Nc3,Nf6,d3,O-O,Be3,Nd4,a3,Nd5,Nxe4,Nxe3,fxe3,Nxe2+,Qxe2,Bb6,Rxf5,g6,Qg4,Bxe3+,Kh1,Kh8,Rf3,h5,Qg3,Bh6,Qe5+,Bg7,Qf4,Qe7,c3,Rae8,Nc2,f5,Ng5,Bh6,h4,Kg7,Ne3,Qc5,Re1,Kf6,Nh7+,Kg7,Nxf5+', 'Rxf5,Qxh6+,Kxh6', 'https://lichess.org/training/IF4jw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('If4v7', 'Blitz', 'Sysmetic', 1523, 'djio', 1551, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Nxe5,Nxe5,Re1,Nxf2,Kxf2,f6,d4,a6,Bd3,Bd6,dxe5,Bxe5,Bf4,d6,Nc3,O-O,Bxe5,fxe5+,Kg1,Qg5,Bc4+,Kh8,Ne4,Qg6,Re3,c6,Bd3,Bf5,Rg3,Qe6,Ng5,Qd7,Bxf5,Qxf5,Qh5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/If4v7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('if5KP', 'Rapid', 'crepord', 1985, 'Sinan_Eminov', 1908, 'd4,Nf6,e3,g6,c4,Bg7,Nc3,c6,Bd3,d5,h3,O-O,Nf3,b6,O-O,dxc4,Bxc4,Ba6,Ne5,Bxc4,Nxc4,Nd5,a3,Nd7,e4,Nxc3,bxc3,c5,Be3,Rc8,Qd2', 'cxd4,cxd4,Rxc4', 'https://lichess.org/training/if5KP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IF8d6', 'Rapid', 'B4RON', 2052, 'JordanRieger', 1948, 'e4,g6,d4,d6,Nc3,Bg7,Be3,Nf6,f3,O-O,Qd2,b6,O-O-O,Bb7,Kb1,a6,g4,Nbd7,h4,e5,Nge2,exd4,Nxd4,c5,Nb3,Ne5,Be2,b5,h5,b4,Nd5,Bxd5,exd5,a5,hxg6,fxg6,Bh6,a4,Bxg7,Kxg7,Qh6+,Kg8,g5,Nh5,Rxh5,gxh5,Nc1,Nf7,Qxh5,Qxg5,Qh2,Ne5', 'Rg1,Qxg1,Qxg1+', 'https://lichess.org/training/IF8d6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFAJS', 'Rapid', 'schorle', 1810, 'Tukenbaev', 1803, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,h6,c3,O-O,b4,Bb6,a4,d5,exd5,Nxd5,b5,Na5,Nxe5,Nxc4,Nxc4,c6,d4,Bc7,Re1,Qh4,g3,Qh3,Ne5,Re8,c4,Nf6,f3,c5,Bf4,cxd4,Qxd4,Be6,c5,b6,c6,Rad8,Nd7,Bxf4', 'Nxf6+,gxf6,Qxf4', 'https://lichess.org/training/IFAJS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iFApQ', 'Rapid', 'Erathesthenos', 1871, 'Gadenky', 1784, 'd4,e6,c4,Bb4+,Nc3,Bxc3+,bxc3,b6,Ba3,Bb7,e3,d6,d5,Qg5,Nf3,Qh5,e4,Ne7,Be2,Qg6,Qd3,O-O,h4,exd5,exd5,Nd7,Qd2,Rae8,O-O,Nf6,Bd3,Qh5,Rae1,Nf5,Bxf5,Qxf5,Qg5,Qc2,h5,Ne4,Rxe4,Rxe4,h6,g6', 'Qf6,Qxc3,Qxc3', 'https://lichess.org/training/iFApQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IfAsR', 'Rapid', 'bhumbhoom', 1644, 'aashish_pandey', 1704, 'a4,d5,f4,Nc6,Nf3,Nf6,a5,a6,Nc3,Bf5,d3,e6,Nh4,Bd6,Nxf5,exf5,Be3,O-O,Qd2,Ng4,g3,Nxe3,Qxe3,Re8,Qf2,Bb4,Ra4,Bxc3+,bxc3,b5,Ra3,d4,c4,bxc4,dxc4,Rb8,Rd3,Rb1+,Rd1,Rxd1+,Kxd1,Nb4,Bg2,Re7,Kc1,Qe8,Bf3,c5,c3,dxc3,Qxc5,Na2+,Kb1,Qa4,Qxe7', 'Qb3+,Ka1,Qb2#', 'https://lichess.org/training/IfAsR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IfB4H', 'Rapid', 'Kobracan', 1989, 'PawnChaserX', 1944, 'd4,d5,Nf3,Nc6,e3,Nf6,a3,a6,Bd3,Bg4,O-O,e6,b3,Bd6,Bb2,O-O,Nbd2,Ne7,Qe1,Bxf3,Nxf3,Ng6,Qe2,h6,Ne5,Bxe5,dxe5,Nh7,Qg4,Qg5,Qe2,Nh4,f4,Qd8,Qg4,Ng6,Bxg6,fxg6,Qxg6,Qe8,Qg4,Rf5,c4,c6,Rad1,Qh5,Qxh5,Rxh5,g4,Rh4,h3,Rxh3,Rde1,h5,g5,Nf8,Kg2,Rh4,Rd1,Ng6,Rc1,Rf8,cxd5,cxd5,Rc7,Rf7,Rfc1,Rg4+,Kh3,Rfxf4,exf4,Nxf4+,Kh2,Rg2+,Kh1,Rxb2,Rxb7,h4,Rf1,Nh5,Rff7,h3,g6', 'Ng3+,Kg1,h2#', 'https://lichess.org/training/IfB4H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFcwO', 'Rapid', 'NetoSales', 1937, 'chiuletz', 1922, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,e6,g3,Nge7,Bg2,O-O,Nf3,Qa5,Bd2,Qb6,h4,Qxb2,Rb1,Qa3,Nb5,Qxa2,h5,Qc4,Nd6,Qc5,h6,Bf6,Bf4,Nd4,Nxb7,Bxb7,Rxb7,Nxc2+,Kf1,Qa3,Qxc2', 'Qa6+,Kg1,Qxb7', 'https://lichess.org/training/IFcwO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ifek5', 'Rapid', 'Dima_K_1973', 1906, 'ivko73', 2002, 'Nf3,c6,g3,d5,Bg2,Bf5,d3,e6,O-O,Nf6,Nh4,Bg6,f4,Qb6+,e3,Nbd7,Nd2,Qxe3+,Kh1,Qb6,Nxg6,hxg6,Nf3,Ng4,Qe2,Bc5,h3,Nf2+,Kh2,Nf6,d4,N6g4+,Kg1,Nxh3+,Bxh3,Bxd4+,Nxd4,Qxd4+,Kg2,Nf6,c3,Qe4+,Qxe4,Nxe4,Be3,b6,Rac1,O-O-O,c4,Kb7,cxd5,cxd5,Rfd1,Rh7,Rh1,d4,Bf2,d3,Kf3,f5,Be3,Rdh8,Bg2,Rxh1,Bxh1,d2,Rd1,Rh2,Bg2,g5,Bxd2', 'g4+,Ke3,Rxg2', 'https://lichess.org/training/ifek5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFF8u', 'Classical', 'aditaxi', 1820, 'civilized8', 1796, 'c4,Nf6,Nc3,g6,Nf3,Bg7,g3,O-O,Bg2,d5,cxd5,Nxd5,O-O,b6,Nxd5,Qxd5,e4,Qh5,d4,f5,e5,Bb7,Ng5,Qxd1,Rxd1,Bxg2,Kxg2,c5,Ne6,Rc8,f4,Rc6,Nxg7,Kxg7,dxc5,Rxc5,Rd8,e6,Be3,Rc2+,Kh3,Rxb2,Rc1,Rxa2,Rcc8,Ra3,Bd2,a5,Rxb8,Rxb8,Rxb8,Rb3,Rb7+,Kh6,Re7,a4,Rxe6,a3,Rc6', 'a2,Bc3,Rxc3,Rxc3,a1=Q', 'https://lichess.org/training/IFF8u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ifFIm', 'Rapid', 'Nostha', 1799, 'Arunajagadeesh2005', 1783, 'e4,c5,Nc3,e6,Nf3,Nf6,Bc4,Nc6,d4,cxd4,Nxd4,Ne5,Bf4,Nxc4,b3,Na5,Ncb5,d6,e5,dxe5,Bxe5,Bb4+,c3,Bc5,Nc7+,Ke7,Nxa8,Bxd4,cxd4,Bd7,Nc7,Qc8,Rc1,Bc6,a4,Rd8,Nb5,b6,Nxa7,Qb7,Nxc6+,Nxc6,O-O,Nxe5,Qe2,Nc6,Rfd1,Nxd4,Qe5,Nxb3', 'Rc7+,Qxc7,Qxc7+', 'https://lichess.org/training/ifFIm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFgHc', 'Blitz', 'washingtonsquarepro', 2459, 'Fritzka', 2422, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,O-O,Nf3,c6,O-O,d6,d4,a6,e4,Bg4,Be3,Nfd7,h3,Bxf3,Qxf3,c5,d5,b5,Qe2,bxc4,Qxc4,a5,f4,Na6,Rae1,Nb4,Qe2,a4,a3,Na6,e5,dxe5,f5,Qa5,d6,exd6,Bxa8,Rxa8,Nd5,Re8,f6,Bf8,Qd2,Qd8,Bh6,Re6,Bxf8,Qxf8,g4,c4,g5,Nac5,Qc2,e4,Qxc4,Ne5,Qc3,Nf3+,Kg2,Nxe1+,Rxe1,Re5,Ne7+,Rxe7,fxe7,Qxe7,h4,Qe6,Kg3,Nd3,Rf1,d5,Rf6,Qd7,Qd4,Qc7+,Kg4,Ne5+,Kh3,Qd7+,Kg2,Qg4+,Kf1,Nf3,Qxd5', 'Qg1+,Ke2,Qe1#', 'https://lichess.org/training/IFgHc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ifgoB', 'Rapid', 'Orishaman', 1654, 'SteveLM', 1686, 'c4,Nf6,d4,d5,c5,e6,e3,Be7,a3,Bd7,b4,Nc6,Nc3,a5,b5,Na7,a4,c6,b6,Nc8,Nf3,Bf8,Bd3,Ne7,Ne5,Ng6,Nxg6,hxg6,h3,Qe7,Bd2,Nh5,Ne2,e5,g4,Nf6,Bc3,e4,Bc2,Bxg4,Qd2,Rxh3,Rxh3,Bxh3,O-O-O,Bg4,Rh1,Bf3,Rg1,Kd7,Bxa5,Bxe2,Rh1,Bf3,Rh8,Ng4,Qe1,Nxf2,Qxf2,Rxa5,Qg3,Ra8,Qc7+,Ke6,Qe5+,Kd7,Qc7+,Ke8,Qf4,g5,Qg3,g4,Rh5,g6,Re5,Bh6,Rxe7+,Kxe7,Qd6+,Ke8,Qe5+,Kf8,Qh8+,Ke7,Qxa8,Bxe3+,Kb2,g3,Qxb7+,Kf6,Qxc6+,Kg7,Qd6,Bxd4+,Kb3,g2,Qg3', 'g1=Q,Qxg1,Bxg1,b7,Bh2', 'https://lichess.org/training/ifgoB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IfhkN', 'Rapid', 'Cajivah', 1648, 'Doedov', 1665, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Ne7,O-O,Bf5,Nc3,c6,Re1,Bxd3,Qxd3,O-O,a4,a6,b3,Re8,Ba3,Bxa3,Rxa3,Nd7,Ng5,Nf8,Raa1,Qd7,b4,f6,Nf3,Neg6,g3,Kf7,Rxe8,Rxe8,b5,Qc8,bxa6,bxa6,a5,Re7,Na4,Nd7,Nb6,Nxb6,axb6,Rb7,Rxa6,Qb8,c4,Rxb6,Rxb6,Qxb6,cxd5,cxd5,h3,Nf8,Qf5,Qe6', 'Ng5+,Ke7,Nxe6', 'https://lichess.org/training/IfhkN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iFjCA', 'Rapid', 'rov1313', 2064, 'xibuda', 2116, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,b6,e3,Bb7,f3,d5,Bd3,dxc4,Bxc4,O-O,Ne2,Nbd7,e4,c5,Bg5,cxd4,cxd4,Qc7,Bd3,b5,O-O,a6,e5,Nd5,Rc1,Qa5,Bb1,Qxa3,Qc2,g6,Qd2,Rfc8,Rxc8+,Rxc8,Nf4,Nxf4,Qxf4,Bd5,h4,a5,h5,a4,Qg4,Qf8,f4,Kh8,hxg6,fxg6,Qh4,a3,Bxg6,Qg7,f5,exf5,Bxf5,Rg8,Bxd7', 'Qxg5,Qxg5,Rxg5', 'https://lichess.org/training/iFjCA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IfKE1', 'Rapid', 'Sikha___dasgupta', 1732, 'Yash7987', 1836, 'Nf3,d5,b3,Nf6,Bb2,g6,d4,Bg7,Nc3,c6,h3,O-O,e3,Bf5,Bd3,Bxd3,cxd3,Nbd7,O-O,e6,Re1,Re8,Ne5,Nh5,Ne2,Nxe5,dxe5,f6,exf6,Bxf6,d4,Bg7,Kh1,Nf6,Ng3,Qc7,e4,Kh8,e5,Ng8,Bc1,Bh6,Qg4,Bxc1,Raxc1,Nh6,Qg5,Rf8,Qxh6,Qa5,Re2,Qb4,Qh4,Qa3,Rcc2,Rae8,Kh2,Rf7,Qh6,Ref8,h4,Qb4,Qd2,Qe7,Qh6,Rf4,Qg5', 'Rxh4+,Qxh4,Qxh4+', 'https://lichess.org/training/IfKE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iFKP8', 'Rapid', 'Omar-Metwally', 1808, 'abuomar', 1863, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,h3,Ngxe5,Nxe5,Nxe5,Nc3,d6,Be2,Be6,O-O,Nxc4,Ne4,Bb6,Qa4+,c6,Bxc4,Bxc4,Qxc4,d5,Qc3,dxe4,Qxg7,Rf8,Qxh7,Qd5,b3,O-O-O,Ba3', 'Rh8,Qxh8,Rxh8', 'https://lichess.org/training/iFKP8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFkPS', 'Blitz', 'GertStingerOnerAner', 1828, 'DomingoRemga', 1815, 'd4,d5,Bf4,e6,e3,Bd6,Bxd6,Qxd6,Nf3,Nf6,Nbd2,O-O,Bd3,c5,c3,Bd7,O-O,c4,Bc2,Nc6,e4,dxe4,Nxe4,Nxe4,Bxe4,f5,Bc2,b5,Re1,Rae8,Ne5,Nxe5,Rxe5,a6,Qe2,g6,Re1,Kg7,a3,a5,Qe3,b4,axb4,axb4,Bd1,bxc3,bxc3,Rf6,Bf3,Bc6,Bxc6,Qxc6,d5,Qd6,dxe6,Re7,Qd4,Qxd4,cxd4,Kf8,d5,Ke8,d6,Rb7,d7+,Rxd7,f4,Rd4,g3,Ke7,Rc5,Rxe6,Rc1,Ree4,Rc7+,Kf6,Rc6+,Kg7,Rc7+,Kh6,Kg2,Rd2+,Kh3,Ree2,Rh1,Rc2,g4,fxg4+,Kxg4,Rg2+,Kf3,c3,h4,Rcf2+,Ke3,c2,h5,gxh5,Rc6+,Kg7,Rc7+,Kg6,Rc6+,Kf5', 'Rxh5+,Kg4,Rg5+,Kh4,Rh6#', 'https://lichess.org/training/IFkPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFl2d', 'Classical', 'PowerSpeedMetal', 2463, 'mastercoxo', 2093, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,O-O,Bd3,Nc6,Nxc6,bxc6,Rhe1,h6,Bh4,Ne8,Bxe7,Qxe7,e5,d5,g4,a5,h4,Ba6,g5,Bxd3,Rxd3,hxg5,hxg5,g6,Rh1,Ng7,Rh6,Rfb8,Qh3,Nh5,Rxh5,gxh5,Qxh5,Qf8,g6,fxg6', 'Qxg6+,Qg7,Qxe6+', 'https://lichess.org/training/IFl2d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ifNb3', 'Rapid', 'Cunha', 1621, 'yukontrek', 1892, 'e4,c5,Nf3,Nc6,Nc3,d6,d3,g6,Bd2,Bg7,Rb1,Nf6,Bg5,O-O,Be2,Nd7,h4,Qa5,Kf1,Nd4,h5,Nf6,h6,Bh8,Nxd4,cxd4,b4,Qxg5,Na4,Bg4,f3,Bd7,b5,d5,g4,Bxg4,fxg4,dxe4,dxe4,Nxe4,Qd3,f5,gxf5,Rxf5+,Ke1,Ng3,Qc4+,Rf7,Rg1,Be5,Qe6,Qe3,Rg2,Rf8,Rb3,Qc1+,Bd1,Kh8,Qxe5+,Rf6,Rgxg3,Kg8,Qxe7', 'Rf1+,Ke2,Qxd1#', 'https://lichess.org/training/ifNb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFnbY', 'Rapid', 'Eisen84', 1643, 'stillnogood', 1678, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,Ng6,Re1,Be7,d4,exd4,Nxd4,Nce5,Nf5,O-O,Qh5,Bc5,Bh6,gxh6,Qxh6,Qf6,h3,d6,Nc3,Bxf5,exf5,Qxf5,Rf1,Bd4,Bb3,Nc6,Rab1,Bg7,Qe3,Rfe8,Qg3,Be5,Qd3,Qf4,g3,Qf6,Rbe1,Nd4,Nd5,Qf3,Re3,Qh5,f4,Bg7,Nxc7,Rxe3,Qxe3,Rc8,Nd5,Nxc2,Qe4,Nd4,Kg2,Nxb3,axb3,f5', 'Qe6+,Kh8,Qxc8+', 'https://lichess.org/training/IFnbY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ifnv7', 'Rapid', 'fumier', 1686, 'Honko77', 1753, 'e4,c5,f4,e6,Nf3,Nc6,Bc4,a6,O-O,b5,Be2,Nd4,c4,Nxe2+,Qxe2,Rb8,cxb5,axb5,Na3,Qb6,Kh1,Nf6,d3,Bb7,b3,d5,e5,Nd7,Bb2,Be7,Nc2,O-O,Ba3,Rfe8,Bb2,c4,Bd4,Bc5,bxc4,bxc4,Rfb1,Qa7,dxc4,dxc4,Qe3,Bxf3,gxf3,Rxb1+,Rxb1,Bxd4,Qxd4,Qxa2,Rb2,Qa8,Qxd7,Qxf3+,Kg1,Rf8,Qc7,Qxf4,Rb8', 'Qc1+,Kf2,Qxc2+', 'https://lichess.org/training/ifnv7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iFP8S', 'Rapid', 'K_ShatlChamp', 1636, 'chessskipper', 1751, 'd4,e6,c4,c5,e3,Nf6,Nf3,d5,cxd5,exd5,Nc3,a6,Bd3,Be7,Ne5,O-O,O-O,Re8,Ne2,cxd4,exd4,Bd6,f4,h6,Ng3,Qb6,Bf5,Bxf5,Nxf5,Bxe5,fxe5,Rxe5,Bxh6,gxh6,Nxh6+,Kh7,Nxf7,Rh5', 'Rxf6,Qxf6,Qxh5+', 'https://lichess.org/training/iFP8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFQ4j', 'Blitz', 'gohmanncolin16', 2121, 'NM mnmassari', 2146, 'c4,Nf6,Nc3,e5,Nf3,d6,d4,exd4,Nxd4,Be7,e4,O-O,Be2,Nc6,O-O,Nxd4,Qxd4,Be6,Be3,c6,f3,Qa5,Rfd1,Rfd8,Rac1,Qe5,Qd2,h6,f4,Qa5,b3,Bg4,Bxg4,Nxg4,Nd5,Qxd2,Nxe7+,Kf8,Bxd2,Kxe7,Bc3,Nf6,Re1,Kf8,Rcd1,Ne8,Rd2,f6,Red1,Ke7,Kf2,Ke6,Kf3,Nc7,Bb4,c5,Bc3,Ne8,e5,fxe5,fxe5,Rd7,exd6,g6,Re2+,Kf7,Be5,Rad8,Red2,Nf6,Bxf6,Kxf6,Kf4,Ke6,g4,Rxd6,Rxd6+,Rxd6,Rxd6+,Kxd6,g5,h5,Ke4,Ke6,h4,b6,a3,a6,Kf4,Kd6,Ke4,Ke6,b4,cxb4,axb4,Kd6,Kd4,a5,b5', 'a4,c5+,bxc5+', 'https://lichess.org/training/IFQ4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iFrQS', 'Classical', 'chess_play', 1657, 'Fritz65', 1622, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Nf6,Nc3,Be7,Bg5,h6,Bh4,O-O,Qf3,d5,exd5,cxd5,Nxd5,Nxd5,Bxe7,Qxe7,Qxd5,Rfd8,Rae1,Qb4,Qe5,Rab8,Qxc7,Qxb2,Re7,Qxa2,Rxf7', 'Qxf7,Qxf7+,Kxf7', 'https://lichess.org/training/iFrQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFRS7', 'Rapid', 'Wardan2011', 1690, 'yassercito', 1695, 'e4,e5,d4,exd4,Qxd4,Nc6,Qc3,b6,Bc4,Bc5,Bd5', 'Bb4,Bd2,Bxc3', 'https://lichess.org/training/IFRS7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFrvO', 'Rapid', 'ralfjoseflieb', 1782, 'Alexandrov92', 1816, 'e4,c6,d4,Qa5+,Nc3,Nf6,Bd2,Qb6,Nge2,Qxb2,e5,Nd5,Nxd5,cxd5,Nc3,e6,Bd3,Nc6,Nb5,Kd8,O-O,a6,Bg5+,Be7,Bxe7+,Kxe7,Nd6,Qxd4,Re1,Nxe5,Qd2,Nxd3', 'Nf5+,Kf8,Nxd4', 'https://lichess.org/training/IFrvO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ifsMY', 'Rapid', 'AlexeyShiman291054', 2035, 'jugador1000', 1708, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Bd7,Bc4,Nc6,f3,Nxd4,Qxd4,Be7,Be3,O-O,O-O,Be6,Bxe6,fxe6,e5,dxe5,Qxe5,Qd6,Qb5,b6,a3,c5,Qe2,Rfe8,Rad1,Qc6,Rfe1,Nd5,Bd2,Nxc3,Bxc3,Bf6,Bxf6,gxf6,Qc4,f5,Re5,Kg7,Qc3,Kf7,Rde1,Re7,Qe3,Rae8,Qh6,Kg8,Rxf5,exf5,Qxc6,Rxe1+,Kf2,f4,Qd5+,R8e6,Qg5+,Kh8,Qxf4,R1e2+,Kg3,Rg6+,Kh3,Rexg2,Qb8+,Kg7,Qxa7+,Kh6,Qd7,Rxc2,f4,Rxb2,f5,Rb3+,Kh4,Rf6,h3,c4,Qd2+,Kg7,Kg5,Rg3+,Kf4,Rxh3,Qd7+,Rf7', 'f6+,Kxf6,Qxh3', 'https://lichess.org/training/ifsMY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iFSYW', 'Rapid', 'dchertousov', 1600, 'barkevich_ad', 1602, 'b4,e5,Bb2,Bxb4,Bxe5,Nf6,f3,O-O,c3,Bc5,d4,d6,Bg3,Bb6,a4,Be6,a5,Nbd7,axb6,Nxb6,Nh3,a5,Qc2,a4,Ng5,g6,Nxe6,fxe6,Qa2,Nfd5,Bf2,Qg5,Nd2,Nxc3,Qxe6+,Kh8,Be3,Qb5,Bh6,Qb2,Bxf8,Qxa1+,Kf2,Rxf8,g4,Nd1+,Kg3,Qxd4,Ne4,Ne3,h4,Ned5,h5,gxh5,Rxh5,Qg1+,Bg2,Nf4,Rxh7+,Kxh7,Ng5+,Kh8', 'Qh6+,Kg8,Qh7#', 'https://lichess.org/training/iFSYW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ifu0V', 'Blitz', 'nikola2202', 1944, 'MGGM1200', 1886, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qe7,Nc3,Bb4,Nxc6,Bxc3+,bxc3,bxc6,f3,Nf6,Bc4,O-O,O-O,d5,Bb3,dxe4,fxe4,Nxe4,Qd3,Nc5,Bxc5,Qxc5+,Kh1,Be6,Rae1,Rad8,Qf3,Bxb3,cxb3,Rd6', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/Ifu0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFUdQ', 'Rapid', 'tha2er', 1786, 'Bahrudin', 1843, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,e3,e6,Nf3,Nf6,Be2,Bd6,d4,O-O,b3,a6,O-O,c6,Bb2,Qc7,e4,e5,dxe5,Bxe5,Nxe5,Qxe5,Rb1,Qc7,Qc2,Re8,Bd3,Ng4,g3,Ne5,Be2,Bh3,Rfe1,Nbd7,Qd1,Nc5,Bf1,Bg4,Be2,Rad8,Qc2,Ncd3,Red1,Nxb2,Rxb2,Bh3,Bf1,Nf3+,Kh1,Qc8,Qe2,Bg4,Rxd8,Rxd8,Qe3,Rd7,Bg2,Nd4,Rd2,Qd8,f3,Bxf3', 'Bxf3,Nxf3,Rxd7', 'https://lichess.org/training/IFUdQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IfUSc', 'Classical', 'Totvik', 2052, 'sergiubularga', 2076, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,d6,Qd2,O-O,O-O-O,Nbd7,Nf3,Re8,e4,e5,dxe5,dxe5,Nxe5,Nxe4,Nxe4,Bxe5,Ng5,Qf6,Bxe5,Nxe5,f4,Nc6,Bd3,Bf5,Bxf5,Qxf5,g3,Rad8,Qc3,Rxd1+,Rxd1,h6,Nf3,Qe4', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/IfUSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IFvFQ', 'Rapid', 'Frostshatter', 1777, 'barneystinson135', 1819, 'e4,e5,Nf3,Nc6,Bc4,b6,c3,Bc5,d4,exd4,cxd4,Bb4+,Nc3,Nf6,a3,Bxc3+,bxc3,O-O,e5,Ne4,Qd3,d5,Bb5,Bb7,Bxc6,Bxc6,Nd2,Ng5,f4,Ne4,Nxe4,dxe4,Qe3,Qh4+,g3,Qh3,c4,Qg2,Qg1,Qc2,d5,Qc3+,Kd1,Ba4+,Ke2,Qxa1,Qe3,Qa2+,Bd2,Bc2,Kf2,Qxc4,Rc1,Qd3,Qxd3,exd3,Ke3,a5,Kd4,Rad8,f5,c5+,Kc4,Rfe8,e6,fxe6,fxe6,Kf8,Rf1+,Ke7', 'Rf7+,Kd6,Bf4#', 'https://lichess.org/training/IFvFQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iFvIE', 'Rapid', 'losu507', 1721, 'gotmewrong', 1733, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,O-O,Nf3,Nc6,a3,a5,Bd3,Bg4,h3,Bh5,O-O,Re8,Rc1,a4,g4,Bg6,Bxg6,fxg6,b4,Qd7,Bxf6,Bxf6,Nxa4,b6,Qc2,Ne7,Rfe1,Rxa4,g5,Bxg5,Nxg5,Ra7,Kh2,Qd6+,f4,Nf5,Qc3,h6,Nf3,Qf6,Re2,Nd6,Ne5,Ne4,Qc6,Re6,Qd7,Re7,Qc6,Kh7', 'Qxf6,Nxf6,Nc6', 'https://lichess.org/training/iFvIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ifW4N', 'Rapid', 'Pendayhoe', 1738, 'pks1089', 1779, 'd4,d5,c4,e6,Nf3,Nf6,Bf4,dxc4,e3,b5,a4,c6,axb5,cxb5,Be2,Bd6,O-O,Bxf4,exf4,O-O,b3,Qc7,Ne5,cxb3,Qxb3,a6,Nd2,Bb7,Rac1,Qb6,Ndf3,Nd5,Rc5,Nxf4,Bd1,Nc6,Nd7,Qd8,Nxf8,Kxf8,Qe3,Qf6,Bc2,Ne7,Be4,Ned5,Bxd5,Bxd5,Rfc1,Bc4,Ne5,Qg5', 'Nd7+,Kg8,Rxg5', 'https://lichess.org/training/ifW4N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ifWqb', 'Rapid', 'escualo', 1841, 'Praleska', 1920, 'e4,c6,Be2,d5,exd5,cxd5,d3,Bf5,Nf3,e6,h3,h6,O-O,Nd7,Nc3,a6,Nh2,Bd6,f4,Ne7,Ng4,Ng6,a3,h5,Ne3,h4,Nxf5,exf5,Nxd5,Nb8,Bh5,Ne7,Nxe7,Bxe7,Re1,g6,Bf3,O-O,Bxb7', 'Qb6+,d4,Qxb7', 'https://lichess.org/training/ifWqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IfwQC', 'Rapid', 'robledad', 1642, 'Vagosprop1', 1619, 'e4,e6,Nf3,c5,d4,Nc6,Bb5,Qa5+,Nc3,a6,Bd3', 'cxd4,Nxd4,Nxd4', 'https://lichess.org/training/IfwQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ifWzI', 'Rapid', 'FedDo', 1735, 'tutamon', 1678, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Nc3,Nbd7,Be2,Be7,O-O,c5,dxc5,Bxc5,Nxd5,O-O,Nxf6+,Nxf6,Qxd8,Rxd8,Bg5,Bg4,Rad1,h6,Bxf6,gxf6,h3,Bf5,Bd3,Be6,b3,Rd7,Rfe1,Rad8,Re2,a5,Rde1,a4,Bb5,Rd1,Bxa4,Bb4,Rxd1,Rxd1+,Kh2,Bd5,Re8+,Kg7,Rd8', 'Bxf3,Rxd1,Bxd1', 'https://lichess.org/training/ifWzI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ifxd7', 'Rapid', 'DZIDZASUMRAKOVAC', 1658, 'SATURIO', 1670, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Bc4,Nf6,O-O,Qd4,Bb3,Qxe4,Qxe4,Nxe4,Re1,f5,Bd5,Nc6,Bxe4,fxe4,Rxe4,O-O-O,Nd2,Nd4,c3,Nc2,Rb1,Bd6,Nf3,Rhf8,Bg5,Rd7,Rc1,h6,Bh4,g5,Bg3,g4,Nxe5,Bxe5,Bxe5,Rfd8,g3', 'Rd1+,Rxd1,Rxd1+,Kg2,Ne1+,Rxe1,Rxe1', 'https://lichess.org/training/Ifxd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IfyLl', 'Rapid', 'Jaymasin', 1712, 'frenach', 1674, 'e4,c6,Nf3,d5,e5,c5,d4,Nc6,c3,Bg4,Be2,cxd4,cxd4,e6,O-O,Nge7,h3,Bxf3,Bxf3,Nf5,Be3,Qb6,Qa4,Qxb2,Nd2,Qb6,Rab1,Qc7,Rfc1,Be7,Nb3,Rc8,Na5,O-O,Rxb7', 'Qxa5,Qxa5,Nxa5', 'https://lichess.org/training/IfyLl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IG4m2', 'Rapid', 'SamDooley', 1957, 'TonyG365', 1954, 'Nf3,b6,g3,Bb7,Bg2,e6,O-O,d5,d4,Bd6,Ne5,Nd7,c4,Nxe5,dxe5,Bxe5,cxd5,Bxd5,e4,Bb7,Qa4+,c6,Nc3,Bc7,Rd1,Qe7,Be3,Nf6,e5,Nd7', 'Bxc6,Bxc6,Qxc6', 'https://lichess.org/training/IG4m2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iG5ug', 'Rapid', 'nosedive1987', 1864, 'Hephestus', 1850, 'd4,g6,c4,Bg7,e3,e6,Nc3,Ne7,Nf3,c6,Be2,d5,cxd5,Nxd5,O-O,O-O,e4,Nxc3,bxc3,Nd7,Be3,Nb6,Qc2,Nd7,Rad1,Nf6,h3,Qc7,Ne5,b5,Bf4,Qb6,Qc1,a5,a3,Nxe4,Bf3,Nf6,Nxc6,Bb7,Ne7+,Kh8,Bxb7,Qxb7,Bd6,Rfd8,Bc5,Bf8,Qf4,Bxe7,Bxe7,Qxe7,Rfe1,Nd5,Qf3,Qc7,h4,Kg7,h5,Qxc3,h6+,Kg8,Qg4,Qxa3,Rxe6,fxe6,Qxe6+,Kh8', 'Qe5+,Nf6,Qxf6+,Kg8,Qg7#', 'https://lichess.org/training/iG5ug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IG6bP', 'Blitz', 'Mr_ijaz', 1650, 'segapo', 1613, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Be6,d4,Nf6,Ne2,Nc6,O-O,Bd6,f4,h6,Ng3,Qd7,c3,O-O-O,Nd2,g6,Nf3,Nh5,Ne5,Nxe5,fxe5,Nxg3,hxg3,Be7,Qe2,Bg5,Bf4,Bxf4,Rxf4,g5,Rf6,h5,Rd1,h4,gxh4,Bg4,Qe1,Bxd1,Bxd1,Rxh4,Qf2,Rdh8,Kf1,Rh1+,Ke2,Qg4+,Rf3,Qe4+,Kd2,g4,Rxf7,Qb1,Bxg4+,Kd8,Rf8+,Ke7,Rf7+,Ke8', 'Bd7+,Kd8,Qf6#', 'https://lichess.org/training/IG6bP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ig6HH', 'Rapid', 'Queribus', 2154, 'nr41_28', 2249, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,d4,Nxd4,Nxd4,exd4,e5,Ne4,Qf3,d5,exd6,Nxd6,Qxa8,O-O,Qf3,c5,c3,c4,Bd1,d3,Bf4,Bb7,Qg3,Ne4,Qh3,Re8,Nd2,Bd6,Bxd6,Nxd2,Bf3,Nxf3+,gxf3,Qxd6,Rfe1,Re2,Rxe2,dxe2,Qh4,Bxf3,Qg3', 'Qd1+,Rxd1,exd1=Q#', 'https://lichess.org/training/ig6HH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ig8NL', 'Blitz', 'mhmva', 1563, 'hifxadrez', 1679, 'e4,g6,d4,Bg7,e5,f5,Nc3,d6,Bd2,dxe5,dxe5,Bxe5,Nf3,Bg7,Bd3,e5,Bg5,Nf6,Nxe5,Qe7,O-O,O-O,Re1,Qb4,Nd5,Nxd5,c3,Qxb2,Rb1,Qxc3,Rc1,Qxe5', 'Rxe5,Bxe5,Bc4,c6,Bxd5+', 'https://lichess.org/training/ig8NL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('igCrE', 'Classical', 'RAMEZ99', 1779, 'chraib', 1808, 'd4,d5,Bf4,Nf6,e3,a6,Nd2,c5,c3,e6,Ngf3,h6,Be2,Nh5,Bg3,Nxg3,hxg3,c4,Ne5,Qf6,f4,b5,e4,Bb7,Bf3,g5,Ng4,Qd8,e5,Be7,Nxh6,Bf8,Rh5,Rxh6,fxg5,Rxh5,Bxh5,Qxg5,g4,Qe3+,Qe2,Qxe2+,Kxe2,Bh6,Nf3,Nd7,g5,Bg7,Rf1,Nf8,Nh4,Ng6', 'Nxg6,fxg6,Bxg6+,Kd8,Rf7', 'https://lichess.org/training/igCrE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IGCT0', 'Blitz', 'CM Dumbeldore', 1856, 'fosforitochess', 1824, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,cxd4,cxd4,Bb4,O-O,Bxd2,Bxd2,Qb6,Bc3,O-O,f4,f5,g4,Ne7,Ng3,fxg4,Qxg4,Nf5,Nxf5,exf5,Bxf5,Qd8,Bb4,Rxf5,Qxf5,Nc5,Qc2,Ne4,Qg2,Bf5,Rac1,a5,Ba3,b5,Bb4,axb4,b3,Nc3,Rf2,Be4,Qg3,Ra6,f5,Bb1,Kf1,Ne4,Qg4,Nxf2,Kxf2,Bxa2', 'f6,Rxf6+,exf6', 'https://lichess.org/training/IGCT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IgDhD', 'Rapid', 'sot-l-y-laisse', 1655, 'Elsever27', 1671, 'e4,e5,Nc3,d5,Nxd5,Be6,Bc4,c6,Ne3,Bxc4,Nxc4,Bc5,Nxe5,Qe7,d4,Bd6,Ne2,Nf6,Bg5,Bxe5,dxe5,Qxe5,Bxf6,Qxf6,O-O,Qxb2,Rb1,Qxa2,Rxb7,O-O,Ng3,Qe6,f4,Na6,e5,Nc5,Rb1,f6,Qd4,Nd7,Rb7,fxe5', 'Qxd7,Qxd7,Rxd7', 'https://lichess.org/training/IgDhD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IGdQu', 'Rapid', 'Drakenfeld', 1932, 'Boxcar_Franky', 1830, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,c4,Bc5,Be3,Qb6,Nxc6,Bxe3,fxe3,Qxe3+,Qe2,Qc1+,Kf2,Qf4+,Qf3,Qxf3+,gxf3,dxc6,Nc3,e5,Rd1,Nf6,c5,O-O,Bc4,Nh5,Ne2,g6,Rd6,Ng7,Rhd1,Be6,Bxe6,Nxe6,Rd7,Rab8,Nc1,Rfd8,Nb3,Kf8,Na5,Ke8,Rxb7', 'Rxb7,Rxd8+,Nxd8,Nxb7,Nxb7', 'https://lichess.org/training/IGdQu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IGFbs', 'Rapid', 'grm142', 2376, 'keramik4', 2245, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,Be3,Nf6,Ndb5,Qb8,g3,a6,Nd4,Bb4,Bg2,O-O,Bf4,e5,Nxc6,dxc6,Bg5,Bg4,Qc1,Qd6,h3,Bh5,O-O,Bxc3,bxc3,h6,Be3,c5,Rb1,Rab8,Qa3,Rfc8,Qa5,b5,a4,Qc6,axb5,axb5,c4,b4,f3,Nd7,c3,Ra8,Qb5,Qxb5,cxb5,bxc3,Rfc1,Ra3,Rc2,Rb8,Kf2,f6,Bf1,Bf7,Rd1,Rb7,Rdc1,c4,Rd1,Kf8', 'Rxd7,Rxd7,Bc5+,Kg8,Bxa3', 'https://lichess.org/training/IGFbs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iGfgW', 'Blitz', 'IM oezs95', 2523, 'GM RaphaeI', 2557, 'Nf3,Nf6,g3,g6,Bg2,Bg7,c4,O-O,Nc3,c5,O-O,Nc6,d4,d6,d5,Na5,Nd2,a6,Qc2,Rb8,Rb1,b5,b3,Bf5,e4,Bd7,h3,Qc8,Kh2,h5,Bb2,bxc4,bxc4,h4,g4,e5,Ne2,g5,Bc3,Qc7,Rb2,Rxb2,Qxb2,Rb8,Qa3,Nb7,Qxa6,Nd8,Ba5,Qc8,Qxd6,Nb7,Qc7,Nxa5,Qxa5,Ne8,Nb3,Bf8,Nc3', 'Ra8,Qxa8,Qxa8', 'https://lichess.org/training/iGfgW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IgfMb', 'Rapid', 'Defoee', 1793, 'shlomigo', 1617, 'e4,e5,Qf3,d6,Bc4,Nf6,d3,c5,h3,Be7,Bg5,O-O,Ne2,a6,a3,b5,Bb3,Nc6,Nbc3,Rb8,h4,a5,O-O-O,b4,Na2,Ra8,axb4,axb4,Kb1,Nd4,Nxd4,exd4,e5,dxe5,Qxa8,Ng4,Bxe7,Qxe7,Qf3,Nh6,g4,Bxg4,Qg3,Bxd1,Rxd1,Nf5,Qg2,Nxh4,Qg4,Qf6,Rg1,Ng6,Nc1,Qxf2,Ne2,Qf6,Ng3,Qa6,Nf5,Ra8,Kc1,Qa1+,Kd2,Qxb2,Qe4,Qc3+,Kd1,Ra1+,Ke2,Rxg1', 'Qa8+,Nf8,Ne7+,Kh8,Qxf8#', 'https://lichess.org/training/IgfMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IgGeT', 'Rapid', 'abdulrahmano', 1693, 'SirRookski', 1650, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Nf3,b6,Bg5,d5,e3,Ba6,Ne5,h6,Bh4,c5,Ng4,Nbd7,Qa4,Bb7,Bd3,g5,Nxf6+,Nxf6,Bg3,dxc4,Bf1,Qd5,f3,Bc6,Qc2,cxd4,cxd4,b5,Be2,a5,O-O,Nh5,Be5,f6', 'Qg6+,Ng7,Bxf6,Rxf6,Qxf6', 'https://lichess.org/training/IgGeT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IGgP0', 'Rapid', 'marsh_randy', 1706, 'rockybiris', 1688, 'e4,e6,d4,d5,Nc3,c5,exd5,cxd4,Qxd4,exd5,Qxd5,Qe7+,Be2,Nf6,Qb3,Nc6,Nf3,Rb8,O-O,Be6,Qa4,a6,Re1,Qd7,Qf4,Bd6,Qg5,O-O,Bd3,Rfe8,b3,Bb4,Bb2,Bg4,Rxe8+,Rxe8,Ne4,Nh5,Nf6+,Nxf6,Bxf6,Bf8,Bb2,Bxf3,gxf3,Ne7,Kh1,Ng6,Bc4,Be7,Qd5,Qxd5,Bxd5,Bf6,Bxf6,gxf6,Bxb7,Re6,Rd1,h5,Kg2,Kg7,c4,h4,Rd4,f5,a4,Kf6,b4,Ke5,Rd5+,Kf4,Ra5,Ne5,Bxa6,Rg6+,Kh3,Nxf3,Bc8', 'Ng1+,Kxh4,Rh6#', 'https://lichess.org/training/IGgP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('igHoz', 'Blitz', 'Lutvi', 2099, 'KanaPolak', 2052, 'd4,d5,Bf4,g6,e3,Bg7,Nf3,Nf6,h3,e6,Bd3,Nbd7,Nbd2,Nb6,c3,Bd7,O-O,O-O,Ne5,Ne8,Ndf3,a6,Qc2,Ba4,b3,Bb5,a4,Bxd3,Qxd3,Nd7,Nxd7,Qxd7,Ne5,Bxe5,Bxe5,f6,Bg3,b6,f4,c5,Bh4,cxd4,cxd4,Rc8,Rf3,Nd6,g4,Ne4,Qxa6,Rc3,Qxb6,Rfc8,Qb5,Qxb5,axb5,Rc1+,Rxc1,Rxc1+,Rf1,Rc3,Rb1,Nd2,Rb2,Nf3+,Kf2,Nxh4,b6,Rc6,Kg3,g5,fxg5,fxg5,b4,Rxb6,b5,Kf7,Rf2+,Ke7,Rb2,Kd6,Kf2,e5,Kg3,exd4,exd4,Rb8,Rb3,Kc7,Rc3+,Kb6,Re3,Kxb5,Re5,Kc4,Rxg5,Kxd4,Kxh4,Ke4,Rg7,d4,Rxh7,Rd8,Re7+,Kf4,g5', 'Rh8+,Rh7,Rxh7#', 'https://lichess.org/training/igHoz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IgHV4', 'Classical', 'GIFTEDGIFT', 1804, 'PINEAPPLE56', 1822, 'd4,Nf6,c4,e6,a3,d5,Nc3,c5,Nf3,Nc6,e3,Qc7,dxc5,Bxc5,cxd5,Nxd5,Nxd5,exd5,Qxd5,Qa5+,Bd2,Qb6,Bc3,Be6,Qe4,O-O,Bd3,g6,O-O,Rfe8,Qf4,Bf8,Ng5,Bg7,Bxg7,Kxg7,Nxe6+,Rxe6,Bc4,Re7,b3,Rae8,Rfd1,Ne5,Qd4,Qa5,f4,Rd7,Qxd7,Nxd7,Rxd7,Rxe3,Rxf7+,Kh6,h3,Qb6,Kh1,a6,Rd1,Qc5,f5,Qc6,Rdd7,Rxh3+,Kg1,Qc5+,Kf1,Rh1+,Ke2,Qe5+,Kd2,Qb2+,Ke3,Re1+,Kf3,Qc3+,Rd3,Qe5,Kf2,b5,Rh3+,Kg5,Rg3+,Kh4', 'Rxh7#', 'https://lichess.org/training/IgHV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('igHXo', 'Rapid', 'Serdavman', 1822, 'ronniak2', 1871, 'd4,Nf6,Nf3,e6,e3,b6,Bd3,Bb7,Nbd2,Be7,Qe2,O-O,e4,c5,e5,Nd5,Ne4,f5,exf6,Nxf6,Nxf6+,Rxf6,Bxh7+', 'Kxh7,Ng5+,Kg8', 'https://lichess.org/training/igHXo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iGiAR', 'Rapid', 'Alfilov', 1627, 'trinity092', 1662, 'e4,e5,Nf3,Nc6,a3,Nf6,Nc3,Bc5,h3,d5,Bb5,d4,Bxc6+,bxc6,Na4,Nxe4,Nxe5,Qf6,Nf3,O-O,d3,Nxf2,Kxf2,Bd6,Bg5,Qf5,g4,Qa5,b3,c5,Bd2,Qa6,Re1,Bd7,Nb2,Qc8,Nc4,Bxg4,hxg4,Qxg4,Nxd6,cxd6,Re4,Qd7,Qg1,d5,Rg4,g6,Ne5,Qf5+,Bf4,Rfe8,Re1,h5,Rxg6+,fxg6,Qxg6+,Qxg6,Nxg6,Rxe1,Kxe1,Kh7,Ne7,Re8,Bg5,Kg7,Kf2,Kf7,Nxd5', 'Re5', 'https://lichess.org/training/iGiAR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IgibR', 'Rapid', 'Tihany', 1937, 'Chess_Sux123', 1930, 'e4,e5,d4,exd4,Nf3,Nc6,c3,Nf6,e5,Qe7,cxd4,d6,Bf4,dxe5,dxe5,Bg4,Be2,Bxf3,Bxf3,Nxe5,O-O,Rd8,Qb3,Nxf3+,Qxf3,Qd7,Nc3,c6,Rad1,Qc8,Rfe1+,Be7,Bd6,Rd7,Bxe7,Rxe7,Rxe7+,Kxe7,Re1+,Kd7,Qf5+,Kc7,Qf4+,Kd7,Na4,Nd5,Nc5+,Kd8,Qxf7,Qd7,Ne6+,Kc8,Qxg7,Qxg7,Nxg7,Rg8,Re8+,Rxe8,Nxe8,Kd7,Ng7,Nb4,a3,Nd3,b4,Ne5,f4,Nc4,a4,b5,axb5,cxb5,Nf5,Nb2,Kf1,Nd3,Ke2,Nxf4+,Kf3,Nd3,Nd4,a6,Kg4,Nxb4,Kf5,Nd5,g4,b4,Nb3,Ne3+,Kf4,Nc4,h4,a5,g5,a4,Nc5+,Ke7,Nxa4,b3,Nc3,b2,Kf5,Kf7,h5,Nd2,g6+,hxg6+,hxg6+,Kg7,Kg5', 'Ne4+,Nxe4,b1=Q', 'https://lichess.org/training/IgibR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('igjsu', 'Blitz', 'ediboss21', 2225, 'NM Chess-Network', 2480, 'Nf3,Nf6,g3,d5,Bg2,c6,O-O,Bg4,Ne5,Bf5,f4,Nbd7,Nxd7,Qxd7,b3,Bh3,Bb2,Bxg2,Kxg2,e6,e3,h5,h3,O-O-O,d3,Bc5,Qf3,Ne8,Nc3,f6,Na4,Bd6,e4,Nc7,c4,Be7,cxd5,cxd5,Qf2,Kb8,Bd4,Nb5,Be3,d4,Bd2,Rc8,Rfc1,e5,fxe5,fxe5,Nb2,Ba3,Rxc8+,Rxc8,Nc4,Bd6,Rf1,Nc3,a4,Rf8,Qxf8+,Bxf8,Rxf8+,Kc7,Nxe5,Qe6,Bf4,g5,Rf7+,Kc8,Rf8+,Kc7,Rf7+,Kb6,Nc4+,Ka6,Rf5,b6,Bxg5,Nxe4,dxe4,Qxe4+,Rf3,Qc2+,Rf2,Qxb3,Ne5,Qd5+,Nf3,d3,Rd2,Ka5,Be3,Kxa4,g4,hxg4,hxg4,Qe4,Kf2,Qxg4,Rxd3,Qc8,Rd4+,Kb5,Ke2,Ka6,Nd2,Kb7,Rd3,b5,Rd6,Qc7,Rf6,a6,Bd4,Qc2,Ke3,Kc7,Ne4,Kd8,Nc5,Qc4,Rf8+,Ke7,Rf4,Qc1+,Ke4,Kd6,Rf6+,Ke7,Kd5,Qd2,Re6+,Kf7,Ke5,Qg2,Rf6+,Kg7,Re6,Qg5+,Kd6+,Kf7,Re5,Qf4,Kd5,Kg6,Re7,Qg5+,Kd6,Kh5,Kc7,Kh4', 'Rh7+,Kg4,Rg7', 'https://lichess.org/training/igjsu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Igkca', 'Blitz', 'Beginner_Brazil', 1771, 'FSantin', 1771, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,h3,d6,Bb5,O-O,d3,a6,Bxc6,bxc6,Bg5,h6,Bh4,Be6,O-O,Rb8,Na4,Ba7,b3,Bd7,Nc3,Re8,d4,exd4,Nxd4,Bxd4,Qxd4,Re6,Rfe1,Qe8,f3,c5,Qd3,Nh5,Nd5,Rc8,Qxa6,c6,Nb6,Rg6,Nxd7,Qxd7,Kh2,Nf4,Rg1', 'Rxg2+,Rxg2,Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/Igkca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('igl0w', 'Blitz', 'GUIL2911', 2005, 'patowc', 1995, 'e4,Nc6,d4,d5,exd5,Qxd5,c3,Nf6,Nf3,Bg4,Be2,e6,O-O,Qh5,Re1,Bd6,h3,Bxh3,gxh3,Qxh3,Qd3,Ng4,Bf1', 'Bh2+,Kh1,Nxf2#', 'https://lichess.org/training/igl0w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IgLUJ', 'Blitz', 'Bekhkermot80', 1722, 'Topol_Eliza', 1728, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Ne7,Nc3,c6,O-O,O-O,Re1,Bf5,Be3,Bg6,Ne2,Nd7,Nf4,Bxd3,Qxd3,Nf6,c4,dxc4,Qxc4,Ned5,Nxd5,Nxd5,Rad1,Qc7,h3,Rfe8,Qd3,Rad8,Ng5,g6,h4,Bf4,Bxf4,Qxf4,g3,Qf6,Ne4,Qf5,Nc5,Qxd3,Nxd3,f6,Nc5,b6,Ne4,Kf7,a3,Re6,Kf1,Rde8,f3,h6,Kf2,f5,Nc3,Rxe1,Rxe1,Rxe1,Kxe1,Ke6,Kd2,b5,Kd3,a5,Nxd5,Kxd5,Kc3,g5,hxg5,hxg5,b4,a4,Kd3,f4,gxf4,gxf4,Kc3,Ke6,Kd3,Kf5,Ke2,Kg5,Kf2,Kh4,Kg2,Kg5,Kh3', 'Kf5,Kh4,Ke6,Kg4,Kd5', 'https://lichess.org/training/IgLUJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IGMxN', 'Rapid', 'Masaya7', 2318, 'Surbhisoni_11', 2434, 'e4,c5,Nf3,g6,Bc4,Bg7,c3,e6,O-O,Ne7,e5,O-O,d4,cxd4,cxd4,d5,Bd3,f6,Re1,Nbc6,exf6,Bxf6,Be3,Qb6,Bc2,Qxb2,Nbd2,Nxd4,Nxd4,Bxd4,Rb1,Qc3,Rb3,Qc5,Nf3,Bxe3,Rbxe3,Nc6,Ng5,e5,Nxh7,e4,Ng5,Bf5,Bb3,Rad8,g4,Qe7,h4,Be6,Nxe6,Qxe6,Rxe4,Qf6,Bxd5+,Kg7,R1e2,Qxh4,Qb3,Kh8,Qxb7,Rxd5,Kg2,Rd1,Qb2+,Nd4,Re1,Rxf2+', 'Qxf2,Qxf2+,Kxf2', 'https://lichess.org/training/IGMxN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('igOCe', 'Rapid', 'komorof', 1664, 'khrmn', 1618, 'e4,c5,Nf3,e6,c4,Nc6,Nc3,Nf6,Bd3,h6,O-O,b6,Bc2,Bb7,d4,cxd4,Nxd4,Nxd4,Qxd4,Bc5,Qe5,O-O,Bxh6,gxh6,Qg3+,Kh8,e5,Ng8,Qd3,f5,exf6,Nxf6,Qg6,Rg8', 'Qxh6+,Nh7,Qxh7#', 'https://lichess.org/training/igOCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IGOlq', 'Blitz', 'Wagging', 2279, 'majid55', 2118, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,Bf4,e6,Qb3,Qc8,e3,Be7,Rc1,O-O,Be5,b6,Bxf6,Bxf6,cxd5,exd5,Nxd5,Be4,Nxf6+,gxf6,Be2,Kh8,O-O,Rg8,Kh1,Qg4,Rg1,Nd7,Qxf7,Rg7,Qb3,Rag8,Qd1,f5,Ne1,Qh4,f3,Bd5,Nd3,Nf6,Nf4,Nh5,Nxh5,Qxh5,Bc4,Rg6,Bxd5,Rh6,h3', 'Qxh3+,gxh3,Rxh3#', 'https://lichess.org/training/IGOlq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IgQy1', 'Rapid', 'Olimpy', 1996, 'fauzi_saputra', 1957, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,O-O,Bc5,c3,dxc3,Bxf7+,Kf8,Bb3,d6,Nxc3,Qe7,a3,Bg4,Na4,Ne5,Nxc5,Bxf3,gxf3,dxc5,Bf4,Rd8,Qe2,Nf6,Rad1,g5,Rxd8+,Qxd8,Bxe5,Kg7,Rd1,Qe7,Qc4,Rf8,Rd3,Qxe5,Kg2,b6,h3,Nh5,Rd7+,Kg6,Qe6+', 'Qxe6,Bxe6,Nf4+,Kf1,Nxe6', 'https://lichess.org/training/IgQy1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IGREb', 'Blitz', 'jackdison', 1803, 'Faighter', 2337, 'h4,e6,h5,d5,a4,h6,a5,Nf6,d4,c5,e3,Nc6,Nf3,cxd4,Nxd4,Bb4+,c3,Bxa5,Rxa5,Qxa5,Bb5,Bd7,b4,Qa2,Nd2,Nxd4,Bxd7+,Nxd7,exd4,Rc8,c4,dxc4,O-O,c3,Ne4,Qd5,Ng3,c2,Qg4,O-O,Bxh6,g6,hxg6,Nf6', 'gxf7+,Kxf7,Qg7+,Ke8,Qxf8+', 'https://lichess.org/training/IGREb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IGrfS', 'Rapid', 'amron', 1880, 'amarcq', 1901, 'e4,c5,Nc3,e6,Bb5,Nc6,Bxc6,bxc6,d3,d5,Nf3,Bd6,Bg5,Nf6,e5,Bxe5,Nxe5,Qc7,Nf3,O-O,Bxf6,gxf6,O-O,e5,Nd2,Kh8,Qf3,Qd6,Ne2,Rg8,Nb3,Bg4,Qe3,d4,Qh6,Rg6,Qh4,Rag8,Ng3,f5,h3,Bf3,gxf3,f4,Kh2,fxg3+,fxg3,Rxg3,Qxg3,Rxg3,Kxg3,Qg6+,Kf2,Qd6,Rg1,c4,dxc4,Qb4,Rac1,Qxc4,a3,d3,cxd3,Qxb3,Rxc6,Qxb2+,Kf1,Qb1+,Kf2,Qb2+,Kf1,h5,Rc8+,Kh7,Rcg8,Qc1+,Ke2,Qc2+,Ke3,Qc5+,Ke4', 'Qd4+,Kf5,Qf4#', 'https://lichess.org/training/IGrfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IgRZv', 'Rapid', 'hals_MF', 1694, 'BeginnerBT', 1655, 'e4,e5,Bc4,Nf6,d4,d6,dxe5,Nxe4,exd6,Nxd6,Bb3,Qe7+,Ne2,Bg4,Be3,Qf6,O-O,Qxb2,Nd2,Be7,Bd4,Bxe2,Bxb2,Bxd1,Raxd1,O-O,Nf3,Nc6,a3,a5,Bd5,a4,Rfe1,Bf6,Bxf6,gxf6,Bxc6,bxc6,Re7,Rac8,Nd4,Nc4,Rd3,Rcd8,h3,Nxa3,Rxa3,Rxd4,Rxc7,Rc4,c3,Rb8,Ra7,Rb3,R7xa4,Rxa4,Rxb3,Ra1+,Kh2,Rc1,g3,c5,h4,c4,Ra3,Kg7,Kg2,Kg6,Kf3,Kf5,g4+,Ke5,Ra5+,Kd6,Ra3,Ke5,Kg2,Ke4,f3+,Kd3,Ra7,Rxc3,Rxf7,Rc2+,Kg3,c3,Rxf6,Rd2,Rf7,c2,Rc7', 'Rd1,Rxc2,Kxc2', 'https://lichess.org/training/IgRZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IGS6E', 'Rapid', 'FILA112', 1782, 'kaitokid18', 1823, 'e3,e5,f3,d5,Ne2,Nc6,Ng3,Be7,Bb5,Bh4,Bxc6+,bxc6,d4,Qg5,Kf2,e4,Nd2,exf3,Nxf3,Bxg3+,hxg3,Qf6,Rh4,Ne7,Rf4,Qg5,Ne5,O-O,c4,Nf5,g4,Qh4+,Ke2,Ng3+,Kd3,dxc4+,Nxc4,Ba6,b3,Rfe8,Qf3,g5,Rxf7,Bxc4+,bxc4,Ne4,Ba3,c5,Rf1,Qh6,Qf5,Nd6,Rf6', 'Nxf5,Rxh6,Nxh6', 'https://lichess.org/training/IGS6E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('igSvm', 'Rapid', 'erhan153', 1778, 'rahulchess123', 1739, 'e4,e5,Bc4,Nc6,d3,h6,a3,Nf6,Nc3,Na5,Ba2,Nc6,Nf3,Bc5,Be3,Bb6,Bxb6,axb6,O-O,O-O,d4,exd4,Nxd4,Nxd4,Qxd4,d6,f4,Be6,Rad1,Bxa2,Nxa2,c5,Qd3,Re8,Nc3,Qe7,Rfe1,Rad8,Qc4,Qe6,Qxe6,Rxe6,e5,Nh7,exd6,Rexd6,Rxd6,Rxd6,Re2,Nf6,Kf2,Nd5,Rd2', 'Nxc3,Rxd6,Ne4+,Ke2,Nxd6', 'https://lichess.org/training/igSvm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Igt1u', 'Rapid', 'PSNIKOS1', 1879, 'monah11', 1654, 'c4,c5,Nf3,Nc6,Nc3,Nf6,d3,h6,g3,b6,Bg2,Bb7,e4,e5,a3,Rb8,O-O,Be7,Nh4,Nd4,Ne2,O-O,Nxd4,exd4,Nf5,d6,Re1,Bc8,Nxe7+,Qxe7,Bf4,Be6,e5,dxe5,Bxe5,Rbd8,Qd2,Ng4,b4,Qd7,bxc5,bxc5,Qa5,Bf5,Rad1,Rc8,h3,Nxe5,Rxe5,Bxh3,Bxh3,Qxh3,Qxa7,Qg4,Ree1,Qg5,Qe7,Qh5,Qe5,Qg6,a4,Qa6,Ra1,Rfe8,Qf5,Rf8,a5,Rfd8,Re7,Rf8,Qd7,Ra8,Qb5,Qc8,a6,Qd8,Rb7,Qg5,a7,Kh7,Rc7,Qd2,Ra3', 'Qc1+,Kh2,Qxa3', 'https://lichess.org/training/Igt1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IGtJ9', 'Rapid', 'puissance64', 1624, 'naborjs', 1622, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,O-O,Nf6,d3,O-O,b4,Bb6,Nbd2,h6,h3,Re8,Nh2,Be6,Bb5,Qd7,Ba4,a6,b5,Nd8,c4,Qe7,bxa6,Bd7,Bxd7,Qxd7,axb7,Nxb7,Nb3,Nc5,Nxc5,Bxc5,Be3,Bd4,Bxd4,exd4,f4,c5,Nf3,Nh5,Nh4,Qe7,Qxh5,g6,Qxh6,Ra3,f5,Rxd3,fxg6,fxg6,Nxg6,Qg7,Qh5,Rg3,Rf2,Qxg6,Qd5+,Qe6,Qh5,Qg6,Qd5+,Qe6,Qxe6+,Rxe6,a4,Rxe4,a5,Re8,a6,Ra8,a7,d3,Rd2,Kf7,Kf2,Rg7,Rxd3,Ke6,Re1+,Kd7,Ra3,Kc6,Rb1,Rgxa7,Rxa7,Rxa7,Ke3,Ra3+,Kf4,Ra4,Rc1,d5,h4,d4,h5,d3,h6,d2,Rd1,Rxc4+,Kg5,Rd4,h7,Rd8,Kg6,c4', 'Rxd2,Rxd2,h8=Q', 'https://lichess.org/training/IGtJ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IGUit', 'Rapid', 'danieldignet', 1674, 'romanianborg', 1771, 'd4,e6,e3,Nc6,c3,Nf6,Bd3,h5,f4,Ng4,Nf3,a6,O-O,b5,Qe1,b4,a3,bxc3,Nxc3,Rb8,Ne5,Ncxe5,fxe5,Be7,h3,Bh4,Qe2,Nh6,Qxh5,Qe7,Kh2,d6,g3,Bxg3+,Kxg3,Nf5+,Rxf5,Rxh5,Rxh5,dxe5,dxe5,g6,Rh8+,Kd7,e4,Qc5,Bg5', 'Qxe5+,Bf4,Qxh8', 'https://lichess.org/training/IGUit');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IgYGu', 'Bullet', 'RookMeRookYOU', 1885, 'NM Samuel-Ramlan-FA', 1895, 'e4,e5,Nc3,Nc6,Bc4,Bc5,Qg4,Qf6,Nd5,Qxf2+,Kd1,Nf6,Qxg7,Nxd5,Qxh8+,Ke7,exd5,d6,dxc6,Qxg2,Qxh7,Bg4+,Ke1', 'Bf2#', 'https://lichess.org/training/IgYGu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iH2KD', 'Rapid', 'Boxcar_Franky', 1895, 'micko13', 1851, 'e4,e6,d3,c5,Nf3,d6,g3,e5,Bg2,Nc6,c3,Bg4,Nbd2,d5,Qa4,Nf6,Nxe5,dxe4,Nxe4,Nxe4,Bxe4,Bd7,Nxd7,Qxd7,O-O,Bd6,Bxc6,bxc6,Re1+,Be7,Bg5,f6,Bf4,O-O,Qc4+,Kh8,Be3,Qd6,d4,cxd4,Bxd4,c5,Be3,Qc7,Bf4,Bd6,Rad1,Bxf4,Qxf4,Qxf4,gxf4,Rfd8,Kf1,Kg8,Rxd8+,Rxd8,Ke2,Re8+,Kd2,Rxe1,Kxe1,Kf7,Ke2,Ke6,Ke3,Kd5,b3,c4,b4,f5,f3,h5,h3,a6,a3,h4,a4,g6,b5,axb5,axb5,Kc5,b6,Kxb6,Kd4,Kb5,Ke3', 'Ka4,Kd4,Kb3', 'https://lichess.org/training/iH2KD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ih7BP', 'Rapid', 'Raykov', 1685, 'littlehorse', 1834, 'd4,e6,c4,d5,a3,c6,Nc3,Nf6,cxd5,exd5,Qc2,Bd6,e4,dxe4,Nxe4,O-O,Nxd6,Qxd6,Nf3,Re8+,Be2,Bg4,O-O,Bxf3,Bxf3,Qxd4,Bg5,Nbd7,Rad1,Qe5,Bxf6,Nxf6,h3,Rad8,Rde1,Qa5,Rxe8+,Rxe8,Qd3,Nd5,b4,Qc7,Bxd5,cxd5,Qxd5,b6,Qg5,h6,Rc1', 'Re1+,Rxe1,hxg5', 'https://lichess.org/training/ih7BP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iH88p', 'Blitz', 'ZenMonkey', 1519, 'Ruffyluffy', 1516, 'e4,e5,d4,Nc6,d5,Nce7,Bg5,Nf6,Bd3,d6,h3,Ng6,Nc3,Be7,Qd2,h6,Be3,O-O,O-O-O,Bd7,Nb5,c6,Nc3,cxd5,exd5,Rc8,Bxg6,fxg6,Bxh6,gxh6,Qxh6,Kf7,Nf3,Rh8', 'Ng5+,Kg8,Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/iH88p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iH8vc', 'Rapid', 'ah1996', 1808, 'gu88', 1992, 'd4,e6,e3,d5,c4,Nf6,Nf3,c5,Nc3,Nc6,cxd5,Nxd5,Bd2,Qb6,Rb1,cxd4,Nxd5,exd5,Nxd4,Nxd4,exd4,Qxd4,Qe2+,Be6,Qb5+,Bd7,Qxb7', 'Qe4+,Be2,Qxb1+', 'https://lichess.org/training/iH8vc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ihBVu', 'Rapid', 'psychomath', 1987, 'Mrazekromca', 1911, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Be7,O-O,Nxe4,Bxe4,Nf6,Bd3,O-O,c3,c6,Ne5,c5,Be3,cxd4,Bxd4,Bd7,Qf3,b6,Rad1,Qe8,Rfe1,Bb5,Bb1,Rd8,Qh3,g6,Ng4,Nxg4,Qxg4,Bc5,Bf6,Rxd1,Rxd1,Be7,Bd4,Bc5,Be5,f6,Bf4,e5,Bh6,f5,Qf3,e4,Qf4,Rf7,Bc2,Bc4,Bg5,Be7,Bh6,Bf6,b3,Be5,Qe3,Be6,c4,Rd7,f3,Rxd1+,Bxd1,Qd7,Qe2,Bd4+,Kh1,exf3,Qxf3,Bc5,Qa8+,Kf7,Bf3,Be7,h3,g5,h4,g4,Bd5,Bxd5,cxd5,Bxh4,Qf8+,Kg6,Bf4,Bg5', 'Qg8+,Qg7,Qxg7+,Kxg7,Bxg5', 'https://lichess.org/training/ihBVu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IHckQ', 'Rapid', 'ritschie', 1758, 'Whiplash775', 1948, 'e4,c6,d4,d5,e5,Bf5,f4,e6,Nf3,Nd7,Bd3,Bxd3,cxd3,a6,O-O,c5,Be3,cxd4,Bxd4,Ne7,Ng5,Nf5,Bf2,Bc5,d4,Be7,Qh5,g6,Qg4,Bxg5,fxg5,Qb6,b3,Nb8,Nc3,Nc6,Na4,Qd8,Nc5,b6,Na4,Rc8,Rac1,h5,gxh6,Rxh6,h4,Nxh4,Bxh4,Qxh4,Qxh4,Rxh4,Nxb6,Rc7,Na8,Rc8,Nb6,Rc7,Na4,Rxd4,Nc5,Rd2,Nxa6,Rc8,a4,Re2,Nb4,Kd7,Nxc6,Rxc6,Rce1,Rxe1,Rxe1,Ke7,a5,d4,b4,Rc4,Rb1,d3,Kf2,Rc2+,Ke3,d2,a6', 'Rc1,Kxd2,Rxb1', 'https://lichess.org/training/IHckQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHCR8', 'Blitz', 'enbrew', 1911, 'aperechnev', 1872, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Bb5+,Nc6,c3,Nf6,O-O,e6,Qa4,Bxf3,Bxc6+,bxc6,Qxc6+,Nd7,gxf3,Be7,Kh1,O-O,Rg1,Re8,Na3,Bh4,Rg2,Nb6,Nc2,Qf6,Be3,Qxf3,Rf1,Nc4,b3,Nxe3,Nxe3,Bxf2,Ng4,Rac8,Qa4,Qxc3,Rfxf2,Qe1+,Rg1,Qe4+,Rgg2', 'Rc1+,Rf1,Rxf1#', 'https://lichess.org/training/iHCR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHcXA', 'Blitz', 'landreoli', 1652, 'carpan', 1532, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,Bg4,Be2,Nf6,d5,Na5,Bd2,c6,b4,Bxf3,gxf3,cxd5,bxa5,dxe4,fxe4,Nxe4,f3', 'Qh4+,Kf1,Qf2#', 'https://lichess.org/training/iHcXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IHDBC', 'Rapid', 'GutiRaf', 2252, 'idiota1974', 2239, 'd4,c5,c3,Nf6,Nf3,e6,g3,b6,Bg2,Bb7,O-O,Be7,Nbd2,d5,Re1,O-O,a4,Nbd7,a5,e5,Nxe5,Nxe5,dxe5,Ne4,Nxe4,dxe4,Qc2,Qd5,a6,Bc6,f4,exf3,exf3,c4,f4,Bc5+,Be3,Bxe3+,Rxe3,Qc5,Qf2,Bxg2,Kxg2,Rad8,Re2,Qd5+,Kg1,Qb5,Rd2,Rd3,Kg2', 'Qd5+,Kg1,Rxd2', 'https://lichess.org/training/IHDBC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHdHn', 'Rapid', 'varol', 1969, 'dyrhaug87', 1801, 'c4,c5,Nf3,d6,e3,Nc6,d4,cxd4,exd4,e6,Nc3,Nf6,d5,exd5,cxd5,Ne5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Be7,Re1,Nxf3+,Qxf3,O-O,Bg5,Rfe8,Rad1,a6,Rd2,h6,Bh4,g5,Bg3,Bf8,Rxe8,Nxe8,Ne4,Rc8,h3,Qe7,Re2,Qc7,Nc3,b5,a3,Bg7,Rc2,Qe7,Kf1,Rc4,Re2,Qd8,h4,gxh4,Bxh4,Rxh4,g3,Rc4,Ne4,Nc7,Nf6+,Bxf6,Qh5,Bg7,b3,Rc5,Re4,Rxd5,Qg4,Re5,Rf4,Nd5,Rd4,Nf6,Qf4,Qe7,Kg2,Nh5,Qg4,Nf6,Qh4,Nd7,Qg4,Nc5,f4,Re2+,Kh3,Nxb3,Rd3,Nc5,Rc3,Ne4', 'Rc8+,Qf8,Rxf8+,Kxf8,Qxe2', 'https://lichess.org/training/iHdHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHet0', 'Blitz', 'confin_nc', 2070, 'ChongChess', 1772, 'e4,d6,d4,Nf6,Bd3,Nbd7,f4,e5,fxe5,dxe5,c3,h6,Nf3,c6,dxe5,Ng4,Bf4,Qe7,O-O,Ngxe5,Nxe5,Nxe5,Bc2,Ng4,Qe2,Qc5+,Kh1,Be7,h3,Ne5,Nd2,g5,Be3,g4,Bxc5,Bxc5,Nc4,gxh3,Nxe5,hxg2+,Kxg2,Rg8+,Kh1,Be6,Qh5,O-O-O,Nxf7,Bxf7,Rxf7,Rg5,Qh3+,Kb8,Rd1,Rdg8,Qd7', 'Rh5+,Qh3,Rxh3#', 'https://lichess.org/training/iHet0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IhF4w', 'Blitz', 'WFM Euge_chess', 2252, 'FM refresher', 2444, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,c4,Nf6,Nc3,Bb4,Be2,O-O,O-O,dxc4,Bxc4,Bg4,Be3,Rb8,Be2,Ba5,h3,Bh5,d5,Bxf3,Bxf3,Ne5,Be2,Bb6,Bg5,Ng6,Ne4,Nxe4,Bxd8,Rbxd8,Bf3,Ng5,a4,a5,Qb3,Rd6,Rad1,h6,Be2,Rfd8,Kh2,Nf4,Bf3,Nxf3+,Qxf3,Nxd5,Rfe1,c6,g3,Rf6,Qd3,Rxf2+,Kh1,Rxb2,Rd2,Rb4,Re4,g6,Rxb4,axb4,Qc4,Re8,Rxd5,cxd5,Qxd5,Re7,Qb3,Bc5,Qc4,b6,a5,Kg7,a6,Re1+,Kg2,Ra1,Qd3,Ra2+,Kf3,Ra3', 'Qxa3,bxa3,a7', 'https://lichess.org/training/IhF4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ihf6J', 'Classical', 'niclang', 2261, 'xeroxx', 2100, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,cxd4,cxd4,Nc6,Ne2,f6,Nf4,Nxd4,Qh5+,Ke7,Ng6+,hxg6,exf6+,Nxf6,Qxh8,Kf7,O-O,e5,Qh4,Bf5,Bxf5,Nxf5,Qg5,Bd6,Nf3,Ne4,Qxd8,Rxd8,Ng5+,Nxg5,Bxg5,Rd7,Rfd1,Ke6,g4,Nd4,Be3,Nc6,Rac1,d4,Bg5,Kd5,f3,Rf7,Kg2,e4,fxe4+,Kxe4,Rf1,Rd7,Rce1+,Kd5,Rd1,Be5,Bf4,Bf6,g5,Bd8,h4,Ne7,Bb8,a6,Rf7,Ke4,Re1+,Kd3,Rf3+,Kd2,Kf2,d3,Bf4+,Kc2,Rc1+,Kxb2,Rd1,Bb6+,Kg3,Nf5+,Kg4,Kc3,h5,Ne7,Rc1+,Kb2,Rd1,gxh5+,Kxh5,g6+,Kh6', 'Nf5+,Kxg6,Nh4+', 'https://lichess.org/training/ihf6J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IHGOl', 'Rapid', 'buckiza', 1618, 'pouria931', 1637, 'c4,e5,Nc3,Nf6,g3,Bc5,Bg2,Nc6,e4,d6,Nge2,O-O,O-O,Bg4,h3,Bh5,d3,Nd4,Qe1,Nc2,Qd1,Nxa1,Bd2,a6,Qxa1,b5,b3,b4,Nd5,Bxe2,Re1,Bxd3,Kh2,Bxf2,Rf1,Bxg3+,Kxg3,Bxe4', 'Nxf6+,gxf6,Bxe4', 'https://lichess.org/training/IHGOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ihGpN', 'Rapid', 'mgmoss98', 1653, 'Kroome8', 1741, 'e4,c5,Bc4,d6,Qh5,e6,d3,a6,Nf3,b5,Bb3,Nf6,Qh4,Be7,Bg5,h6,Bxf6,Bxf6,Qf4,O-O,c3,Nc6,O-O,Bb7,d4,c4,Bc2,e5,dxe5,dxe5,Qe3,Qe7,b3,Na5,Qb6,cxb3,axb3,Nc6,c4,Nb4,Bd1,bxc4,bxc4,Rfc8,Nbd2,Rab8,Qa5,Nc6,Qa4,Qe6,Bb3,Qg4,h3,Qf4', 'g3,Qxd2,Nxd2', 'https://lichess.org/training/ihGpN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IhheR', 'Classical', 'EI-2018', 1698, 'shubh1427', 1623, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bg5,Be7,Nd5,c5,Qd3', 'Nxd5,Qxd5,Bxg5', 'https://lichess.org/training/IhheR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IHHvM', 'Blitz', 'turosenspuro', 2221, 'Avery1014', 2255, 'e4,c5,d3,Nc6,f4,e6,Nf3,d5,Be2,Nf6,e5,Nd7,c3,Qa5,O-O,b6,Bd2,b5,d4,Ba6,c4,Qb6,cxd5,Nxd4,Nxd4,cxd4,Bf3,exd5,Bxd5,Rd8,Qb3,Be7,Bxf7+,Kf8,Bh5,g6,Bg4,Nc5,Qh3,b4,Re1,Nd3,f5,Nxe1,Bxe1,d3+,Kh1,Bg5,Bd2,Bxd2,Nxd2,h5,Bf3,Qe3,Rd1,Qxe5,fxg6,Kg7,Ne4,Rd4,Ng3,d2,Nf5+,Kxg6,Nxd4', 'Qe1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/IHHvM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ihiuN', 'Rapid', 'dwakse', 1633, 'Pirakot', 1622, 'd4,e6,c4,d5,cxd5,exd5,Nc3,Nc6,Nf3,Nf6,Bg5,Be7,e3,O-O,Bb5,a6,Bxc6,bxc6,Ne5,Bb7,Qa4,Qd6,O-O,h6,Bh4,g5,Bg3,Nh5,Nd3,Nxg3,hxg3,a5,Rac1,Qd7,Ne5,Qd6,Nd3,Ba6,Nc5,Bxf1,Kxf1,Ra7,Ne2,Rb8,b3,Rb4,Qa3,Qd8,Qb2,Bxc5,Rxc5,a4,Qa3,Qb8,Qc1,Ra6,Rxc6,Rxc6,Qxc6,Rb6,Qxd5,Rb5,Qc6,axb3,axb3,Rxb3,Nc3,Qb6,Qe8+,Kg7,Qe5+,Kf8', 'Qh8+,Ke7,Nd5+,Kd7,Nxb6+', 'https://lichess.org/training/ihiuN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ihiWY', 'Blitz', 'FM MF_miftahulhudany', 2167, 'SHREWDPINOY', 2138, 'e4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Bd6,Qh5,O-O,Ne2,Nc6,d4,Na5,Bd3,g6,Qxa5,b6,Qd2,a5,h4,Bb4,c3,Bd6,Qh6,Re8,h5,Bf8,Qxh7+,Kxh7,hxg6+,Kg7', 'Rh7+,Kg8,gxf7#', 'https://lichess.org/training/ihiWY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ihL2X', 'Rapid', 'DIONISIS_POLITIS', 1730, 'magenireth', 2067, 'b3,b6,Bb2,Bb7,Nf3,Nc6,g3,Qb8,Bg2,e5,d3,d6,O-O,Be7,c4,Nf6,Nbd2,O-O,e3,a5,d4,exd4,exd4,d5,Re1,Re8,Ne5,Qd8,Qc2,Nb4,Qc3,c6,a3,Na6,cxd5,cxd5,Rac1,Rc8,Qf3,Qd6,Ndc4,Qe6,Ng6,Qd7,Rxe7,Rxe7,Nxe7+,Qxe7,Ne5,Rxc1+,Bxc1,h6,Qc3,Nc7,b4,axb4,Qxb4,Qxb4,axb4,Nb5,Bb2,Ne8,f4,Ned6,Kf2,Nc4', 'Nxc4,dxc4,Bxb7', 'https://lichess.org/training/ihL2X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHMto', 'Classical', 'syncopath', 1989, 'derlalla', 2074, 'd4,d5,Bf4,c6,e3,e6,Nf3,Bd6,Bg3,Nf6,Bd3,Ne4,Bxd6,Nxd6,c4,O-O,Qc2,f5,b3,Qf6,Nbd2,Ne4,Ne5,Nxd2,Qxd2,Nd7,f4,Nxe5,fxe5,Qh6,O-O-O,f4,Rdf1,fxe3,Rxf8+,Kxf8,Qe2,Ke7,c5,Bd7,Re1,Qxh2,Qxe3,Qxg2', 'Rg1,Qxg1+,Qxg1', 'https://lichess.org/training/iHMto');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IhnlI', 'Rapid', 'shanat287', 1736, 'dagpok', 1735, 'c4,e5,Nc3,Nf6,d3,Bb4,Bg5,h6,Bh4,g5,Bg3,b6,a3,Bxc3+,bxc3,d6,e4,Bb7,Be2,Nbd7,Nf3,Nc5,O-O,Nh5,Nxe5', 'Nxg3,hxg3,dxe5', 'https://lichess.org/training/IhnlI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ihoKi', 'Classical', 'Alexis1975', 1890, 'Lemniscata_zero', 1887, 'e4,e5,Nf3,d6,Bc4,Nf6,d3,h6,c3,c5,Nbd2,Bg4,h3,Bh5,O-O,Nbd7,a3,Be7,Qc2,O-O,b4,a6,Bb2,b5,Ba2,Nb6,Rad1,c4,d4,exd4,cxd4,d5,Bb1,dxe4,Nxe4,Nxe4,g4,Bg6,Ne5,Nc3,Nxg6,Nxd1', 'Nxe7+,Qxe7,Qh7#', 'https://lichess.org/training/ihoKi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ihpQx', 'Rapid', 'JABD', 1661, 'Swedemax', 1707, 'c4,e5,g3,c6,e4,d5,cxd5,cxd5,Nc3,dxe4,Nxe4,Qd5,Bg2,f5', 'Nf6+,Nxf6,Bxd5', 'https://lichess.org/training/ihpQx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ihq3d', 'Classical', 'irenereilly', 1744, 'monet566', 1743, 'e4,c5,Bc4,e6,Nc3,Ne7,d4,d5,exd5,exd5,Bb5+,Nbc6,dxc5,d4,Nce2', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/Ihq3d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHR9p', 'Rapid', 'jache', 1924, 'l6096', 1924, 'e4,g6,d4,Bg7,c4,d6,Nc3,Nc6,Be3,Nh6,f3,O-O,Qd2,Nb4,a3,Nc2+,Qxc2,f5,Bd3,fxe4,Nxe4,Nf5,Bf2,Nxd4,Bxd4,Bxd4,Ne2,Bb6,b4,a5,Rb1,axb4,axb4,e5,c5,dxc5,bxc5,Ba5+,Kf2,Qh4+,N2g3,g5,Qc1,h6,Qb2,Qf4,h3,Be6,Rhe1,Bxe1+,Rxe1', 'Ra2,Qxa2,Bxa2', 'https://lichess.org/training/iHR9p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHrOF', 'Classical', 'sammybeliz', 1617, 'Behluloz', 1616, 'b3,e5,Bb2,Nc6,c4,d5,cxd5,Qxd5,Nc3,Qe6,e3,Bd7,Bc4,Qe7,Nd5,Qd6,Qf3,Nf6,Nxf6+,gxf6,Ne2,O-O-O,O-O-O,Nb4,Kb1,Bc6,e4,Qc5,a3,Na6,Qf5+,Bd7,Qxf6,Be7,Qxe5,f6,Qd4,Bc6,Qxc5,Nxc5,d3,b5,Bd4', 'bxc4,Bxc5,Bxc5', 'https://lichess.org/training/iHrOF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IhRXr', 'Rapid', 'Stage_man', 2255, 'Tarigan_zegir', 2348, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,e3,c6,Bd3,Nbd7,Nge2,O-O,O-O,Re8,Qc2,Nf8,Rad1,Bg4,f3,Bh5,Ng3,Bg6,e4,dxe4,Bxe4,Nxe4,Bxe7,Rxe7,fxe4,Rd7,Qf2,Ne6,d5,cxd5,exd5,Nc7,Qc5,Qf8,Qxf8+,Kxf8,d6,Ne6,Nf5,Bxf5,Rxf5,Rad8,Ne4,f6,Rf2,Kf7,g3,h6,Rfd2,b6,a3,Ng5,Nxg5+,hxg5,b4,Ke6,Re1+,Kf5,Red1,g4,Kf2,g5,Kg2,Ke6,Re1+,Kf7,Red1,f5,h3,gxh3+,Kxh3,Kg6,Rd5,Kf6,Rf1,f4,gxf4,gxf4,Rfd1,Rg8,R1d4', 'Rh7+,Rh5,Rxh5#', 'https://lichess.org/training/IhRXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHsqM', 'Blitz', 'FM Los5hermanos', 2331, 'NM ElCHACAL664', 2450, 'e4,c5,c3,e6,Nf3,Nf6,e5,Nd5,d4,cxd4,Nxd4,Be7,Be2,Nc6,Nxc6,dxc6,O-O,O-O,c4,Nb4,Bd2,Nd3,Bc3,Nf4,Bf3,Qb6,Nd2,Rd8,Qc2,Bd7,Ne4,Be8,Rad1,Ng6,Qa4,c5,Qa3,Rxd1,Rxd1,Rd8,Rxd8,Qxd8,Qxa7,Bc6,Nd6,Bxf3,gxf3,Bxd6,exd6,Qxd6,Qa8+,Nf8,Qxb7,h5,Qe4,Ng6,a4,Qd1+,Kg2,Qxa4,f4,Qd1,f5', 'exf5,Qa8+,Kh7', 'https://lichess.org/training/iHsqM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IHSxU', 'Classical', 'georgt', 1675, 'francoisdeguise', 1639, 'e4,c5,Nf3,Nc6,Bc4,d6,d4,cxd4,Nxd4,g6,Nb3,Bg7,O-O,e6,c3,Nge7,Be3,O-O,N1d2,Ne5,Be2,a6,f4,N5c6,Bf3,Bd7,Nc4,Nc8,Nxd6,Nxd6,Qxd6,Na5,Nxa5,Qxa5,Qxd7,Rad8,Qxb7,Rd3,Qa7,Rfd8,Rfd1,Rxd1+,Bxd1,Qb5,Bb3,Qe2,Rf1,Qxb2,Qxa6,Qxc3,Bf2,Bd4,Qe2,Bxf2+,Qxf2,Rd2,Qf3,Qb2,f5,exf5,exf5,g5,h3,h6,h4,Qd4+,Kh2,Qxh4+,Qh3,Qe4,Qf3,Qh4+,Qh3,Qe4,Rf3,g4,Qg3', 'Qxf3,Qxf3,gxf3', 'https://lichess.org/training/IHSxU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHU9v', 'Rapid', 'calebsilt', 1719, 'mmx-mmx', 1779, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kf1,Qe7,Nxh8,Bh4,Nf7,d5,exd5,Qxf7,dxc6,Qxc4+,Qe2,Qxc2,Qxe5+,Kf7,Nc3,Be6,Qxc7+,Kg6,cxb7,Qd3+,Ne2,Rf8,b8=Q,Ne8+,Qf4,Bg4,Qxf8,Qxe2+,Kg1', 'Qe1+,Qf1,Bf2#', 'https://lichess.org/training/iHU9v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IhukL', 'Rapid', 'moskwich', 1705, 'KnayzRurik', 1720, 'f4,e6,e4,d5,e5,g5,d4,gxf4,Bxf4,c5,c3,Nc6,Nf3,Bd7,Be2,Qb6,b3,cxd4,cxd4,Bb4+,Bd2,Nxd4,Nc3,Nxe2,Qxe2,Rc8,Rc1,Bb5,Qxb5+', 'Qxb5,Nxb5,Rxc1+', 'https://lichess.org/training/IhukL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHuYY', 'Rapid', 'ncamcam', 1643, 'RedMilan', 1613, 'd4,Nf6,Nc3,e6,e4,Bb4,Bd2,Bxc3,Bxc3,Nxe4,f3,Qh4+,g3,Nxg3,hxg3,Qxh1,Nh3,b6,Qe2,Ba6,Qf2,Bxf1,Qxf1,Qxf1+,Kxf1,O-O,Re1,d6,f4,Nc6,Re2,h6,Rh2,Rae8,g4,e5,d5,Nd4,fxe5,dxe5,Bb4,c5,dxc6,Nxc6,Bxf8,Rxf8,c3,Rd8,g5,h5,Nf2,Rd2,Rxh5,Rxb2,a4,Ra2,Ne4,Rxa4,Nd6,Rg4,Kf2,f6,gxf6,gxf6,Nf5,Rf4+,Ke3,Rf1,Ke4,Kf7,Kd5,Ne7+,Nxe7,Kxe7,Rh7+,Kf8,Rxa7,Rc1,Ke6,Rxc3,Rf7+,Ke8,Rb7,Rc6+,Kd5,Rc5+,Ke6,Rc6+,Kd5,Rc5+,Ke6,f5', 'Rb8+,Rc8,Rxc8#', 'https://lichess.org/training/iHuYY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHVTe', 'Rapid', 'WilberFranco', 1669, 'MinoUB2015', 1674, 'e4,e5,Bc4,Nf6,Nc3,Bb4,Nf3,Bxc3,bxc3,O-O,O-O,Nxe4,Nxe5,d6,Qf3,Nf6,Ba3,c5,Nd3,Bg4,Qxb7,Nbd7,h3,Be2,Rfe1,Bxd3,cxd3,Rb8,Qxa7,d5,Bb3,Ra8,Qb7,Rxa3,Bxd5,Nxd5,Qxd5,Ra6,a4,Qf6,Rab1,Nb6,Qxc5,Nxa4', 'Qxf8+,Kxf8,Rb8+,Qd8,Rxd8#', 'https://lichess.org/training/iHVTe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iHvZH', 'Rapid', 'stupid_doctor', 1975, 'Vanril', 1697, 'd4,d5,Bf4,Nc6,Nf3,e6,e3,Nf6,Nbd2,g6,c3,Bg7,Bd3,O-O,O-O,Bd7,h3,a6,Rc1,Na7,c4,dxc4,Rxc4,Bb5,Rc3,Bxd3,Rxd3,Nd5,Bh2,c6,Qb3,b5,e4,Nb6,d5,exd5,exd5,c5,d6,c4,Qc2,cxd3,Qxd3,Bxb2,Rb1,Bg7,Ne4,Nc4,a4,Nb6,Be5,Nxa4,Bxg7,Kxg7,Qd4+,f6,Rc1,Rc8,Rxc8,Nxc8,Nfg5,Qd7,Nxf6,Rxf6,Ne4,Qd8,Nxf6,Qxf6', 'Qxf6+,Kxf6,d7,Ne7,d8=Q', 'https://lichess.org/training/iHvZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IhxfX', 'Rapid', 'Kulani', 1964, 'TowerDefending', 1949, 'e4,e6,Qf3,Qf6,Bc4,Qxf3,Nxf3,Nc6,c3,Nge7,d4,d5,exd5,Nxd5,O-O,Bd6,h3,O-O,Nh2,Nf6,f4,Ne7,Bd3,Ng6,Na3,Nd5,Nc4,Ndxf4,Bxf4,Nxf4,Bxh7+,Kxh7,Nxd6,Nxh3+,gxh3,cxd6,Rf4,e5,dxe5,dxe5,Rh4+,Kg8,Ng4,Bxg4,hxg4,Rad8,Kg2,Rd2+,Kf3,Rxb2,Rah1,g6', 'Rh8+,Kg7,R1h7+,Kf6,Rxf8', 'https://lichess.org/training/IhxfX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IHxqP', 'Rapid', 'CrazyRussianBoy', 1879, 'Knitin', 1911, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Nc3,Nxe5,Nxe5,Qxe5,e4,Bb4,Bd2,Bxc3,Bxc3,Qxe4+,Be2,f6,O-O,Ne7,Re1,O-O,b3,d5,Bg4,Qg6,Rxe7,Bxg4,Qxd5+,Kh8,Rae1,Qxc2,Bb4,Rfd8', 'Qxd8+,Rxd8,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/IHxqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ihYbY', 'Rapid', 'klasssic', 1808, 'Nikolaj1234', 1788, 'd4,f5,Bg5,d5,e3,Nf6,Bxf6,exf6,Bd3,Bd6,Qh5+,g6,Qh6,Qe7,Nc3,Be6,Nge2,Nd7,Nb5,a6,Nxd6+,cxd6,Nf4,Kf7,h4,b5,h5,g5,Nxe6,Qxe6,g4,f4,Bf5,Qe8,Kd2,fxe3+,fxe3,Nb6,b3,Qg8,Rhf1,Qg7', 'Be6+,Kxe6,Qxg7', 'https://lichess.org/training/ihYbY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IhYCa', 'Blitz', 'CiccioChess', 2203, 'CM Blueagle', 2167, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,a6,a4,e6,Bg5,h6,Bh4,dxc4,e4,g5,Bg3,b5,Be2,b4,Na2,Nxe4,Bxc4,Nxg3,hxg3,Nd7,Nc1,Bg7,Nb3,Bb7,O-O,O-O,Qe2,Qc7,Rac1,a5,Rfe1,Nb6,Bd3,Nxa4,Qe4,Rfd8,Ne5,c5,Qh7+,Kf8,Nxc5,Nxc5,Rxc5,Qb6,Nxf7,Rxd4,Nxg5,hxg5,Rxg5,Rd7,Rg6,Bd5,Re3,Rf7,Be4,Bxe4,Rxe4,Qxf2+,Kh2,Qf5,Rf4,Qe5,Rfg4,Raa7,R4g5,Qc7', 'Rxg7,Rxg7,Qh8+', 'https://lichess.org/training/IhYCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('II1jN', 'Rapid', 'Eojpamz', 1750, 'arsenico', 2095, 'e4,Nf6,Nc3,d6,d3,e5,Be2,Be7,Nf3,c6,O-O,Be6,b3,Nbd7,a3,Qa5,Bb2,h6,b4,Qb6,Na4,Qc7,c4,b6,d4,Nxe4,dxe5,dxe5,Qc2,Nef6,Bd3,Rc8,Rae1,b5,cxb5,cxb5,Qxc7,Rxc7,Nc5,Nxc5,bxc5,Rxc5,Rxe5,Rxe5,Bxe5,a6,Bxf6,gxf6,Nd4,Bd5,Re1,Kd7,Bf5+,Kd8,Rc1,Bb7,Nc6+,Ke8', 'Nxe7,Kxe7,Rc7+,Kd6,Rxb7', 'https://lichess.org/training/II1jN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('II1np', 'Rapid', 'asssquare', 1746, 'Perramus', 1853, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Bxc6,Bxc6,Nxc6,bxc6,O-O,Be7,Qg4,g6,Nc3,Nf6,Qe2,O-O,Bh6,Re8,Qc4,Qd7,f4,Bf8,Bg5,Nh5,Rad1,Bg7,e5,d5,Qd3,Rab8,b3,h6,Bh4,Rb4,Ne4,Rxe4,Qxe4,Qg4,Qe1,Nxf4,Qf2', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/II1np');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ii3Ej', 'Classical', 'GeorgCantor', 1785, 'Typux', 1777, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bg4,Be2,e6,O-O,Nc6,Be3,h5,Ne5,Nxe5,dxe5,Qxd1,Bxd1,Bxd1,Raxd1,Ng4,Bg5,Nxe5,Rfe1,Nc4,Nb5,Rc8', 'Nxc7+,Rxc7,Rd8#', 'https://lichess.org/training/ii3Ej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('II4QR', 'Rapid', 'oskfroland', 2171, 'wasswa', 2124, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,O-O,Nf3,Nbd7,Qc2,b6,cxd5,exd5,Bd3,Bb7,O-O,Re8,a3,c6,b4,Nf8,Rfc1,N6d7,Bf4,Ng6,Bg3,Nf6,Qb3,Nh5,Be5,Nxe5,Nxe5,Bd6,Nf3,Nf6,a4,Ne4,a5,b5,Rab1,a6,Qc2,Qe7,Na2,Rac8,g3,Rc7,Nd2,Nf6,Qc3,Bc8,Nb3,h5,Nc5,h4,Rc2,Ne4,Bxe4,dxe4,Nc1,Qf6,Qe1,Bh3,Qe2,Ra7,Qh5,g5,Ne2,Kg7,gxh4,gxh4,Kh1,Rh8,Rg1+,Kf8,Nxe4,Rxh5,Nxf6,Rh6,Ng4,Bxg4,Rxg4,Bxb4,Nf4,Bxa5,Nd3,Bc7,Nb4,Bd6,Rxc6,a5', 'Rc8+,Ke7,Nc6+,Kd7,Nxa7', 'https://lichess.org/training/II4QR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('II8hF', 'Blitz', 'gefuehlter_FM', 2553, 'IM MassterofMayhem', 2557, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,g4,Nc6,g5,Nd7,Be3,Qc7,Qd2,b5,O-O-O,Bb7,Bxb5,axb5,Ndxb5,Qb8,Nxd6+,Bxd6,Qxd6,Qxd6,Rxd6,Ke7,Rhd1,Rhd8,f4,Rac8,a4,Nb4,R1d2,f6,h4,Na6,f5,exf5,exf5,Rc6,Bf4,Rxd6,Bxd6+,Kf7,Re2,Re8', 'g6+,hxg6,fxg6+,Kxg6,Rxe8', 'https://lichess.org/training/II8hF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('II9dB', 'Rapid', 'NIGHTMARE354', 1946, 'drreal33', 1919, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,d6,c3,Bd7,O-O,Be7,Re1,b5,Bc2,Na5,d4,exd4,cxd4,c5,e5,dxe5,dxe5,Ng4,Nc3,Be6,Qe2,Nc4,b3,Nb6,Bb2,Nh6,Rad1,Qc7,Ne4,Nf5,Nfg5,Bd5,Qg4,Nh6,Qf4,O-O,Nf6+,Bxf6,exf6,Qxf4', 'Bxh7+,Kh8,fxg7#', 'https://lichess.org/training/II9dB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ii9P5', 'Blitz', 'Cassiel516', 2052, 'KaspaJones', 2121, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,O-O,Bd3,d6,O-O,Bg4,h3,Bh5,Nbd2,Nbd7,Bh2,Re8,Qb1,e5,c3,Bxf3,gxf3,Nh5,Kh1,Qh4,Kg2,f5,Bg3,Qf6,f4,e4,Be2,Bh6,Bxh5,gxh5,h4,Kf7,Qc2,Rg8,Qb3+,Ke7,Kh2,Rg4,Kh3,b6,f3,exf3,Nxf3,Rag8,Ng5,Bxg5,fxg5,Qe6,Qxe6+,Kxe6,d5+,Kxd5,Rxf5+,Ke6,Raf1,h6,Rf6+,Nxf6,Rxf6+,Kd5,Rxh6,Ke4,Rxh5,Kf3,Bf4,Rg1,Rh7,Rf8,Kh2,Rg2+,Kh1,Rxb2,g6,Rxf4,exf4', 'Kg3,Re7,Rb1+,Re1,Rxe1#', 'https://lichess.org/training/Ii9P5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iI9r4', 'Classical', 'chimerameruem', 1806, 'xgirvel', 1867, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,Bg5,h6,Bh4,Nbd7,a3,Be7,cxd5,exd5,e3,O-O,Bd3,c6,h3,Ne4,Bxe7,Qxe7,O-O,f5,Nd2,Ndf6,Ndxe4,fxe4,Be2,Bf5,Re1,Qf7,f4,exf3,Bxf3,Rae8,Kh2,Ne4,Qe2,Qc7+,Kg1,Qg3,Bg4,Bxg4,hxg4,Rf2,Nxe4', 'Qxg2#', 'https://lichess.org/training/iI9r4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IIA7A', 'Classical', 'pablobusch', 1825, 'lsnsjxkxndisn', 1692, 'd4,d5,Bf4,c5,c3,cxd4,cxd4,Nc6,Nf3,Bg4,Nbd2,Qa5,Ne5,Nxe5,Bxe5,f6,Bg3,Rc8,f3,Bf5,Rc1,g6,Rxc8+,Bxc8,Qc2,Bd7,a3,Bh6,h3,Bxd2+,Qxd2,Qxd2+,Kxd2,Nh6,e3,O-O,Bd3,Nf5,Bh2,Rc8,g4,Nh4,Ke2,Ba4,Kf2,Bc2', 'Rc1,Bxd3,Rxc8+', 'https://lichess.org/training/IIA7A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iiac4', 'Rapid', 'puLA321', 1804, 'bastonati', 1842, 'c4,e5,g3,Nf6,Bg2,c6,Nf3,e4,Ng5,d5,cxd5,cxd5,Nc3,h6,Nh3,Nc6,Qb3,Bc5,Nf4,Nd4,Qd1,O-O,O-O,Re8,a3,Bb6,b4,Bg4,h3,Bf5,e3,Nc6,Qb3,d4,Na4,dxe3,dxe3,Bc7,Rd1,Qe7,Nd5,Nxd5,Qxd5,Rad8,Qb3,Be6,Qc2,Rd6,Bb2,Red8,Nc5,Rxd1+,Rxd1,Rxd1+,Qxd1,b6,Nxe4,Nd8,Qd4,f6,Nd2', 'Be5,Qd3,Bxb2', 'https://lichess.org/training/Iiac4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IicHV', 'Rapid', 'alharris', 1667, 'flame-of-recca', 1836, 'e4,e6,Nc3,d5,Nf3,dxe4,Nxe4,Nd7,Bc4,Ngf6,d3,Nxe4,dxe4,Bc5,Bg5,Be7,h4,b6,Qe2,Bb7,O-O-O,O-O,Bd2,Bf6,Bg5,Qe7,e5,Bxf3,gxf3,Bxg5+,hxg5,Rad8,f4,Nc5,Qh5,Rxd1+,Kxd1,Rd8+,Kc1,Qd7,Qxh7+,Kf8,Qh8+,Ke7,Qxg7', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/IicHV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IICs4', 'Rapid', 'knaxknox', 1977, 'mitkosavov', 1915, 'e4,e5,Nc3,c6,g3,Bb4,Bg2,Bxc3,dxc3,Qf6,f4,exf4,Bxf4,Ne7,Nf3,Na6,O-O,h6,Qe2,O-O,Rad1,Qe6,Bd6,Nf5,Bxf8,Kxf8,Qf2,Ne7,Nd4,Qxa2,Qxf7+,Qxf7,Rxf7+,Kxf7,Rf1+,Kg8,e5,Ng6,Be4,Nxe5,Nf5,d5', 'Ne7+,Kh8,Rf8#', 'https://lichess.org/training/IICs4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iIDFh', 'Rapid', 'Aliaksandr80', 1893, 'rick1996', 1914, 'Nf3,c5,g3,e6,Bg2,Ne7,O-O,Ng6,d4,Qb6,c4,d6,Nc3,Bd7,e4,Be7,Qe2,cxd4,Nb5,e5,Bg5,O-O,a4,a6,a5,Qc5,Na3,Qxa5,b4,Qd8,h4,Bxg5,Nxg5,f6,Nh3,Qc8,Kh2,b6,f4,exf4,Nxf4,Ne5,Nd5,Qd8,Qd2,Ng4+,Kh1,Ne3,Nxe3,dxe3,Qd5+,Kh8', 'Qxa8,Bc6,Qa7', 'https://lichess.org/training/iIDFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iidlz', 'Rapid', 'vandam745', 1613, 'patdedem', 1909, 'Nf3,Nc6,g3,e5,d3,Bc5,Nbd2,d6,e4,Bb4,Bg2,Bg4,O-O,Bxd2,Bxd2,Nd4,h3,Bxf3,Bxf3,Nxf3+,Qxf3,Qf6,Qxf6,Nxf6,g4,h5,g5,Nd7,h4,O-O-O,a4,Rdf8,b4,f5,a5,fxe4,dxe4,Rf3,Be3,Kb8,b5,Rh3,b6,cxb6,axb6,a6,Rad1,Nc5,Bxc5,dxc5,Rd5,Rxh4,Rfd1,Kc8,Rxc5+,Kb8,Rcd5,Kc8,Rc5+,Kb8,Rxe5,Rc8,Red5,Rxe4,Rd8,Rg4+,Kf1,Rxg5,R1d7,Rc5,Rxc8+,Kxc8,Rxg7,Rxc2,Rg8+,Kd7,Rg7+,Kc6', 'Rc7+,Kd5,Rxc2', 'https://lichess.org/training/Iidlz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IienQ', 'Rapid', 'gamayuchebeli', 1793, 'Nimataki80', 1898, 'd4,d5,Nc3,Nf6,Bf4,Bf5,Nb5,Na6,e3,c6,Nc3,e6,h3,Nb4,Rc1,Qa5,a3,Na2,Ne2,Nxc1,Nxc1,Be7,Nd3,O-O,Be2,Bxd3,Bxd3,g6,O-O,Rad8,h4,Bd6,Bg5,Kg7,h5,Qc7', 'h6+,Kg8,Bxf6', 'https://lichess.org/training/IienQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IiEVz', 'Blitz', 'jendouba10', 1514, 'avelpic', 1552, 'd4,b6,Nf3,Nf6,Bf4,Bb7,Nc3,e6,e3,Bb4,Qd3,Ba6,Qd2,Bxf1,Rxf1,Ne4,Qd3,d5,O-O-O,Nxc3,bxc3,Ba3+,Kd2,Nd7,c4,dxc4,Qxa3,Nc5,c3,Ne4+,Ke1,c5,dxc5,Qe7,Bd6,Qf6,cxb6,Nxd6,Qxd6,Qxc3+,Nd2,Rd8,Qc6+,Kf8,Qc7,Qd3,b7,c3,b8=Q', 'cxd2+,Rxd2,Qxd2#', 'https://lichess.org/training/IiEVz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IifrZ', 'Blitz', 'Playitclean', 2213, 'FM Vilma1963', 2245, 'd4,Nf6,c4,e6,Nf3,c5,Nc3,cxd4,Nxd4,Nc6,g3,Bc5,e3,O-O,Bg2,a6,O-O,Qb6,Na4,Qa7,Nxc5,Qxc5,b3,b5,cxb5,axb5,Bb2,b4,Rc1,Qh5,Nxc6,dxc6,Bxf6,Qxd1,Rfxd1,gxf6,Rd2,Bb7,Rc4,Rfd8,Rxd8+,Rxd8,Bf3,Ba6,Rxb4,Rd2,Rb6,Rxa2,h4,Ra1+,Kg2,Bf1+,Kh2,Rb1,Bxc6,Bc4,b4,Kg7,b5,Rb2,Kg2,f5,Rb7,Rb1,b6,h5,Rb8,Bf1+,Kh2,Rb2,Kg1,Rb1,b7', 'Bb5+,Kg2,Bxc6+', 'https://lichess.org/training/IifrZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IIG4s', 'Blitz', 'auwaldbewohner', 1676, 'geniarus', 1685, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,c4,b3,b5,bxc4,bxc4,Be2,Be7,O-O,h6,Nbd2,Bg5,Nxg5,hxg5,Nf3,g4,Ne1,Qh4,h3,gxh3,g3,h2+,Kh1,Qe7,Nf3,Nh6,Nxh2,Nf5,Kg2,Ba6,Qa4,Bb7,Rh1,O-O-O,Nf3,Rxh1,Kxh1,Rh8+,Kg2,f6,Ba3,Qf7,Rh1,Rxh1,Kxh1,fxe5,Nxe5,Nxe5,Qxa7,Nc6,Qc5,g6,Bc1,Qe7,Qb6,Qc7,Qc5,Nxg3+,fxg3,Qxg3,Qf8+,Nd8,Bf4,Qe1+,Kh2,Qxe2+,Kg3,Qd3+,Kg2,Qxc3,Qd6,Qb2+,Kg3,Qc3+,Kg4,Qa5,Qb8+,Kd7,Qd6+,Ke8,Bg5,Nc6', 'Qxe6+,Ne7,Qxe7#', 'https://lichess.org/training/IIG4s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IIGlY', 'Rapid', 'CHARISMATIC---MIND', 2188, 'dimonchikss', 2270, 'd4,e5,Nf3,exd4,Nxd4,c5,Nf3,d5,e3,Nf6,b3,Be7,Bb2,O-O,Bd3,Bg4,Nbd2,Nc6,O-O,Nb4,Be2,Bf5,c4,Bc2,Qc1,Bd3,Qe1,Bc2,a3,Nd3,Bxd3,Bxd3,Rc1,dxc4,Nxc4,Bxf1,Qxf1,Qd5,Rd1,Qe6,Qe2,Rfd8,Re1,Ne4,Nfe5,Bf6,Qh5,Nd6,f4,Nxc4,bxc4,Bxe5,Bxe5,Qg6,Qf3,b6,Re2,Rac8,Qb7,Rd1+,Kf2,Rcd8,Bc7,Re8,Be5,Qd3,Qxa7,Qxc4,Qxb6,Rd3,a4,f6,Bb2,Rb3,Qc6,Reb8,Kf3,Rxb2,Rxb2,Rxb2', 'Qe8#', 'https://lichess.org/training/IIGlY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iiIGl', 'Classical', 'usamakarim', 1986, 'haelbakr', 1782, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,e3,e6,Nf3,Bb4,a3,Bxc3+,bxc3,O-O,c4,b6,Be2,a6,O-O,dxc4,Bxc4,b5,Bd3,Bb7,Bb2,Nbd7,Rc1,h6,Bb1,Rc8,Qe2,Be4,Ba2,Bd5,Ba1,Bxa2,Qxa2,Nb6,Ne5,Qd5,Rc2,Rxc2,Qxc2,Rc8,Qd2,Ne4,Qa5,Qb7,h3,Nc4,Qb4,a5,Qe1,Ned2,Nxc4,Nxf1', 'Nd6,Qc7,Nxc8', 'https://lichess.org/training/iiIGl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iiIqs', 'Rapid', 'Pavelpoldrakonovic', 1652, 'autokad', 1654, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,d5,e5,Nc6,Bb5,Qa5+,c3,Bc5,Bxc6+,bxc6,Nxc6,Qb6,Nd4,Bxd4,Qxd4,Ne7,g4,Ba6,Be3,Qxb2,c4,Qb4+,Bd2,Qxc4,Qxc4,Bxc4,Nc3,Ng6,a4,Nxe5,Nb5,Nf3+,Kd1,O-O,Bb4,Rfc8,Nd6,Bb3+,Ke2,Nd4+,Kd3,Nc2,Nxc8,Nxb4+,Kc3,Rxc8+,Kxb4,Bc4,a5,e5,Rhc1,g6,Rab1,f5,gxf5,gxf5,Rb2,e4,Rd2,Kg7', 'Rxd5,Bxd5,Rxc8', 'https://lichess.org/training/iiIqs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IiIzT', 'Rapid', 'Nessar', 1990, 'HarshalN', 1969, 'd4,c6,c4,Nf6,Nc3,e6,Nf3,d5,Bg5,Be7,e3,O-O,Bd3,Nbd7,O-O,Qc7,cxd5,cxd5,Rc1,Qd6,Bf4,Qb6,Na4,Qd8,Bc7,Qe8,Bb1,Ne4,Qd3,f5,Ne1,Qg6,f3,Ng5,Nc5,Nxc5,dxc5,Bd7,Nc2,a6,Nd4,Rac8,Bd6,Rfe8,b4,Bf6,a3,Bxd4,Qxd4,Bb5,Rf2', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/IiIzT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IiJqg', 'Blitz', 'mmbb', 1746, 'the_best_333', 1777, 'd3,e5,e3,Nf6,Be2,d5,Nf3,Nc6,O-O,Bc5,Nbd2,O-O,a3,Re8,b4,Bf8,c4,d4,e4,a6,Nb3,Bg4,Bg5,h6,Bh4,Qd6,c5,Qe6,Qc2,g5,Bg3,Nh5,Rfe1,Nxg3,fxg3,f5,exf5,Bxf5,Nfd2,Qg6,Nc1,Bg7,Bf3,Re6,Bd5,Re8,Rf1,Kh8,Bxe6,Rxe6,Qb3,Ne7,Nf3,c6,a4,Nd5,b5,Ne3,Re1,g4,Nh4,Qh7,Nxf5,Qxf5,Ra2,Rf6,Qb2', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/IiJqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iIkyf', 'Rapid', 'amit2025', 2007, 'serg1953', 2036, 'e4,Nf6,Nc3,d6,d4,g6,Bd3,Bg7,Nge2,O-O,O-O,c6,h3,a6,a4,b6,Be3,Ra7,Qd2,Rd7,Rad1,b5,axb5,axb5,Bh6,b4,Nb1,c5,Bxg7,Kxg7,e5,Ne8,Qf4,dxe5,dxe5,e6,Nd2,Nc7,Bc4,Nd5,Bxd5,Rxd5,c4,Rd7,Ng3,Bb7,Rfe1,Nc6,Nge4,Nd4,Nxc5,Rc7,Nxb7,Rxb7,Nb3', 'Ne2+,Kh2,Nxf4,Rxd8,Rxd8', 'https://lichess.org/training/iIkyf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iil4M', 'Rapid', 'Raclot', 1848, 'darkhorse69', 1936, 'd4,Nf6,c4,e5,d5,Bc5,Nc3,Ng4,Ne4,Qh4,g3,Bb4+,Bd2,Bxd2+,Qxd2,Qe7,Nf3,d6,Rc1,f5,Nc3,O-O,e3,Nd7,Be2,Nc5,O-O,Qf6,b4,Na6,a3,Qh6,e4,f4,Nh4,Nxh2,Kxh2', 'fxg3+,fxg3,Qxd2', 'https://lichess.org/training/Iil4M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iINBM', 'Blitz', 'Qw1988', 2120, 'VasyaK2212', 1821, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,e6,Bc4,Nf6,O-O,Bd6,Bg5,Nbd7,Bxf6,Nxf6,a3,O-O,b4,Qc7,Ne5,Bxe5,dxe5,Qxe5,Qe1,Qxe1,Rfxe1,b5,Red1,bxc4,Rd4,Ba6,a4,Rad8,Rh4,Rd2,b5,cxb5,axb5,Bb7,Rxa7,Rb8,Rxc4,Rxc2,h3,Nd5,Rxb7,Rf8,Rbc7,Nxc7,Rxc7,Rb8,b6,h6,b7,Kh7,g3,Rb2,Rxf7,R2xb7,Rf4,Rc8,Ne4,Rb2,Kg2,Rcc2,h4,e5,Rf7,Kg6,Rd7,Re2,Kf3,Rec2,g4,Rb4', 'h5+,Kh7,Nf6+,Kh8,Rd8#', 'https://lichess.org/training/iINBM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IIOEQ', 'Rapid', 'trothan', 1949, 'ilocosking', 1910, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bg5,Bb4,Nxc6,bxc6,Bd3,h6,Bh4,g5,Bg3,Qa5,Qd2,d5,Be5,Ke7,Bxf6+,Kxf6,exd5,cxd5,a3,d4', 'Ne4+,Kg7,Qxb4', 'https://lichess.org/training/IIOEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IiOgL', 'Blitz', 'XeJiK', 1666, 'Boris_1961', 1663, 'e4,d6,d4,g6,d5,Bg7,Bd3,c5,dxc6,Nxc6,Nf3,Bg4,Nc3,Nd4,Be3,Bxf3,gxf3,Qb6,Na4,Qc7', 'Bxd4,Bxd4,Bb5+,Kf8,Qxd4', 'https://lichess.org/training/IiOgL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iIows', 'Rapid', 'unsel', 1812, 'bothering', 1751, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Nc3,Bb4,Bd2,O-O,O-O-O,Re8,Qg3,Nxe4,Nxe4,Rxe4,Bh6,Bf8,f3,Re6,Bg5,Qe8,Bd3,Bd6,Qh3,h6,Bd2,Nb4,Bf5,Re7,Kb1,Bc5,Bxh6,Re1,Ne2', 'Rxd1+,Rxd1,Qxe2', 'https://lichess.org/training/iIows');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iIP4F', 'Rapid', 'Donniech', 1721, 'KFlipperwald', 1689, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,c3,Bg4,Be2,Nf6,Bg5,Be7,O-O,Qd7,Re1,O-O-O,Bb5,h6,Bf4,g5,Be5,Rhg8,Nbd2,h5,Qa4,Kb8,Bxc6,Qxc6,Qxc6,bxc6,Nxg5,Rxg5,Bf4,Rgg8,Rxe7,Bh3,Bxc7+,Kc8,Bxd8,Kxd8,Rxa7,Rxg2+,Kh1,Ng4,Ra8+,Kc7,Ra7+,Kd6,Rxf7,Rxh2+,Kg1,Rg2+,Kf1', 'Rxf2+,Ke1,Rxf7', 'https://lichess.org/training/iIP4F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iIRbP', 'Rapid', 'Engr_Josephus', 2070, 'IngBjo', 1983, 'd4,b6,Nf3,Bb7,Bf4,e6,e3,d5,Be2,Bd6,Bg3,c5,c3,Ne7,Nbd2,O-O,O-O,Nbc6,Rc1,Nf5,a3,Nxg3,hxg3,c4,Re1,e5,dxe5,Nxe5,Nxe5,Bxe5,Nf3,Bf6,Nd4,a6,Bg4,Bc8,Bxc8,Qxc8,Qf3,Rd8,Rcd1,Qc5,Qe2,b5,Qc2,a5,Ra1,b4,axb4,axb4,Qd2,bxc3,bxc3,Rxa1,Rxa1,Rb8,Qc2,h6,Rb1,Ra8,Qb2,Qa5,Qc2,Qa4', 'Rb8+,Qe8,Rxe8+', 'https://lichess.org/training/iIRbP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IIrnd', 'Blitz', 'Jmvazquezes', 1747, 'Hundred420', 1753, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,O-O,Be7,Be3,O-O,f4,e5,Nb3,exf4,Bxf4,Be6,Qd2,Nc6,Rad1,Ne5,Kh1,Rc8,h3,Qc7,Nd4,Bc4,Nd5,Nxd5,exd5,Bxd5,c3,Qd7,Bxe5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/IIrnd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IIRtM', 'Blitz', 'lollolollo', 1736, 'iboznr', 1788, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,a3,h6,h3,a6,b4,Ba7,Bb2,b5,Ba2,Bb7,Nbd2,d6,Re1,Nd4,c4,c5,cxb5,axb5,bxc5,Bxc5,Nxd4,Bxd4,Qb3,Bxb2,Qxb2,Bc6,Rac1,Qb6,Nc4,Qd4,Qxd4,exd4,Nxd6,Be8,e5,Nh7,e6,fxe6,Bxe6+,Kh8,Ra1,Ng5,Nxe8,Rfxe8,Bd5,Rxe1+,Rxe1,Rxa3,Rb1,Rxd3,Rxb5,Rd1+,Kh2,Kh7,Bb3,Rd2,Rd5,Rb2,Bc4,Rd2,f4,Nf3+,Kg3,Ne1,Rd8', 'Rxg2+,Kh4,Nf3+,Kh5,g6#', 'https://lichess.org/training/IIRtM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IiSWX', 'Rapid', 'LosingMeansImproving', 1879, 'shantanuhade', 1907, 'e4,c5,Nf3,d6,Bb5+,Nd7,Bxd7+,Bxd7,O-O,Nf6,Nc3,b5,a3,g6,d3,Bg7,Bg5,O-O,Bxf6,Bxf6,Nd5,Bg7,Rb1,f5,Re1,fxe4,Rxe4,Bc6', 'Nxe7+,Kh8,Nxc6', 'https://lichess.org/training/IiSWX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iiTLL', 'Rapid', 'SUB-ROBSON', 1716, 'white_slonik', 1962, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Bc4,Bxc3,dxc3,Nc6,Bg5,h6,Bh4,d6,b4,Be6,Bxe6,fxe6,b5,Ne7,Bxf6,gxf6,c4,Rg8,Nd2,Rxg2,Qh5+,Kd7,Qxh6,Qg8,Qxf6,Rf8,Qh4,Rf4,Qh3,Rfxf2,O-O-O,Qg5,Qc3,Ng6,c5,Nf4,c6+,Kc8,cxb7+,Kb8,Kb1,Ne2,Qc6,Nd4,Qe8+,Kxb7,Nc4,Rxc2,Rxd4,exd4,Qc6+,Kb8,Qe8+,Kb7,Qc6+,Kb8,Qe8+,Kb7,Qc6+,Kc8', 'Nxd6+,Kd8,Qe8#', 'https://lichess.org/training/iiTLL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iItRT', 'Blitz', 'bodya17', 2038, 'doctorgonzzzo', 1972, 'd4,c5,d5,Nf6,c4,d6,Nc3,g6,e4,Bg7,Be2,Nbd7,f4,h5,Nf3,Ng4,h3,Nh6,O-O,a6,Be3,b5,cxb5,axb5,Bxb5,Ba6,Ng5,Bxc3,Bxa6,Bxb2,Bb5,Bf6,a4,Qa5,e5,Qc3,Bd2,Qd4+,Kh1,Bxg5,fxg5,Ng4,e6,fxe6,dxe6,Qe5,exd7+,Kd8,Bf4,Qc3,hxg4,hxg4+,Kg1,g3,Qf3,Rh1+,Kxh1', 'Qh8+,Qh5,Qxh5+,Kg1,Qh2#', 'https://lichess.org/training/iItRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iiU03', 'Blitz', 'sniff_yoda', 2180, 'NM Jasugi99', 2623, 'e4,a6,d4,b5,Nf3,Bb7,Bd3,e6,O-O,Nf6,Nbd2,d5,e5,Nfd7,Re1,Be7,Nf1,c5,c3,Nc6,Ng3,h5,h3,g5,dxc5,g4,hxg4,hxg4,Nd4,Bxc5,Qxg4,Ndxe5,Rxe5,Nxe5,Qg7,Nxd3,Qxh8+,Kd7,Qh7,Nxc1,Qxf7+,Qe7,Qxe7+,Bxe7,Rxc1,e5,Ndf5,Bg5,Rd1,Ke6,Ne3,Rg8,Nc2,Bh4,Nf1,d4,g3,Bf3,Re1,Kd5,Nd2,Bh5,cxd4,exd4,Nb4+,Kc5,Nd3+,Kb6,Re6+,Ka7,Rh6,Bxg3,Kf1,Bg6,Rxg6,Rxg6,fxg3,Rxg3,Ke2', 'Re3+,Kd1,Rxd3', 'https://lichess.org/training/iiU03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iIuBy', 'Blitz', 'shammies', 1967, 'amindirac', 1877, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,h6,Nf3,Be7,Bd3,Nc6,O-O,a6,Re1,O-O,d5,exd5,exd5,Nb8,Rb1,c6,c4,cxd5,cxd5,Bf6,Ba3,Re8,Rxe8+,Qxe8,Qd2,Bg4,Re1,Qa4,Qb4,Qxb4', 'Re8+,Qf8,Rxf8#', 'https://lichess.org/training/iIuBy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iiuJd', 'Bullet', 'Dan-Sho', 2072, 'jeroen75n', 2024, 'e4,d5,e5,c5,b4,cxb4,d4,Nc6,a3,Bf5,axb4,Nxb4,c3,Nc2+,Qxc2,Bxc2,Bb5+,Qd7,Bxd7+,Kxd7,Kd2,Bg6,Ba3,b6,e6+,fxe6,Nf3,Nf6,Ne5+,Kc7,Rc1,Be8,c4,Kb7,cxd5,exd5,Nc3,e6,Bxf8,Rxf8,h3,Rc8,g4,Nd7,Nb5,Rxc1,Rxc1,Nxe5', 'Nd6+,Ka6,Ra1+,Ba4,Rxa4#', 'https://lichess.org/training/iiuJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iiV3e', 'Rapid', 'Phanatic13', 1974, 'Folomeiev123', 2026, 'e4,c6,Nf3,d5,exd5,cxd5,d3,Nc6,Bf4,Bg4,h3,Bh5,Be2,e6,Qd2,Bd6,O-O,Nf6,Bg5,Be7,Re1,O-O,Bf4,Bd6,Nh2,Bxe2,Rxe2,Qc7,Bxd6,Qxd6,Nc3,Qb4,Rb1,Rac8,a3,Qa5,Qf4,b5,Ng4,Nxg4,Qxg4,b4,axb4,Qxb4,Qg3,Nd4,Ree1,Nxc2,Red1,Nd4,Na2,Qb3,Nc3,a5,Qe3,Nc2,Qe5,Nb4,d4,Na2,Ne2,Rc2,Nf4,Rxb2,Nh5,f6,Qxe6+,Kh8,Qe7,Rg8,Ra1,Nc3,Re1,Ne4,Rxa5,Qb8,Rxd5,Nxf2,Re2,Rxe2,Qxe2,Qb1+,Kxf2,Qb3,Rf5,g6,Rxf6,gxh5,Qe5,Qc2+,Ke3,Qc1+,Ke4,Qe1+,Kd5,Rd8+,Kc6,Qc3+,Qc5', 'Rc8+,Kb7,Rxc5', 'https://lichess.org/training/iiV3e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iiVkd', 'Rapid', 'Cristobaldoce', 1935, 'Sinaga777', 1852, 'e4,c6,d4,g6,Nc3,Bg7,Nf3,b5,a3,Bb7,Bd3,e6,e5,Ne7,O-O,O-O,Bg5,Qe8,Qd2,Nd5,Nxd5,exd5,Bh6,Qe7,Rae1,Na6,Qf4,Nc7,Bxg7,Kxg7,Ng5,h6,Nf3,Ne6,Qd2,a5,c3,Ng5,Re3,c5,dxc5,Qxc5,Nxg5,hxg5,Rg3,Rh8,Qxg5,Qc6,Re1,Rh6,Ree3,Rah8,h3,b4,Be2,bxa3,bxa3,Qe6,Bg4,Qb6,Bxd7,Qb1+,Kh2,d4,Qf6+,Kg8,cxd4,Qf1,e6', 'Rxh3+,Rxh3,Qxg2#', 'https://lichess.org/training/iiVkd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IIwD6', 'Rapid', 'austriangamer', 1634, 'GustavoSchulte', 1632, 'd4,Nf6,Nf3,d5,c4,g6,Nc3,dxc4,e4,Bg7,Bxc4,O-O,e5,Nfd7,e6,fxe6,Bxe6+,Kh8,Ng5,Qe8,Qb3,Bxd4,O-O,Nc5,Qd5,Bxe6', 'Qxd4+', 'https://lichess.org/training/IIwD6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iiXh7', 'Rapid', 'mikle127127', 1684, 'polaniec', 1711, 'c4,g6,Nc3,Bg7,d4,a6,e4,d6,Be3,Bd7,Qd2,h5,Nf3,Bh6,Bxh6,Nxh6,e5,Bg4,Be2,Bxf3,Bxf3,c6,O-O,Nf5,Rad1,dxe5,dxe5,Qxd2,Rxd2,e6,Ne4,Nd7,Rfd1,Nxe5,Nf6+,Ke7,Nd7,Nxf3+,gxf3,Rad8,Nc5,Rxd2,Rxd2,Nd6,Kg2,a5,Rd3,b6,Na4,Nxc4,b3,b5,bxc4,bxa4,Ra3,Rb8,Rxa4,Rb4,Rxa5,Rxc4,Ra7+,Kf6,Rc7,c5,a4,Rxa4,Rxc5,g5,Rc8,Kg7,Rc5,f6,Rc6,e5,Rc7+,Kg6,Rc8,g4,Rg8+,Kf7,Rh8,Kg7,Rxh5,gxf3+,Kxf3,Rf4+,Kg3,Kg6,Rh4,Kg5', 'Rxf4,exf4+,Kf3,Kf5,h4', 'https://lichess.org/training/iiXh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iIybQ', 'Blitz', 'ukrchess_org_ua', 2890, 'GM kontraJako', 2780, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,e6,g4,h6,h4,Be7,h5,Nc6,Be3,Nf6,Rg1,Qa5,Nb3,Qc7,a4,b6,f4,Bb7,Bd3,Nb4,Nd4,Nd7,Qe2,Nc5,g5,hxg5,fxg5,g6,h6,e5,Nf3,Ncxd3+,cxd3,d5,Rc1,d4,Nd5,Qd8,Nxb4,Bxb4+,Bd2,Bd6,Nh2,Bc8,Ng4,Bxg4,Qxg4,O-O,Ke2,b5,a5,b4,Rc6,Be7,h7+,Kh8,Qg3,Qxa5,Rgc1,Rae8,Rc7,Qb5,Ra7,Bd6,Qf3,Re6,Rxf7,Qe8,Rcc7,Rxf7,Rxf7,a5,b3,Be7,Kd1,a4,bxa4,b3,Bc1,b2,Bxb2,Qxa4+,Ke1,Qb4+,Kf1,Qxb2,Rxe7,Qc1+,Ke2,Qc2+,Ke1,Qb1+,Kf2,Qa2+,Kg3,Rxe7,Qf8+,Kxh7,Qxe7+,Kg8,Qxe5,Qa1,Qe6+,Kh7,Qf7+,Kh8,Qf6+,Kh7,Qf2,Qc3,Qf7+,Kh8,Qf8+,Kh7,Qh6+,Kg8,Qxg6+,Kh8,Qf6+,Kg8,Qf3,Qe1+,Kg4,Qc1,Kf5,Qc5+,Kg6,Qd6+,Qf6,Qd7,Kh5', 'Qh3+,Kg6,Qh7#', 'https://lichess.org/training/iIybQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iIYFT', 'Classical', 'Bhanup', 1704, 'asterix123', 1625, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Nf6,d4,exd4,Nxd4,Nxe4,Re1,d5,Bb3,Bc5,f3,Nc6,c3,O-O,fxe4,dxe4,Rxe4,Bf5,Rf4,Qd7,Be3,Rad8,Kh1,Nxd4,Bxd4,b6,Na3,Bxd4,Qxd4,Qc6,Qc4,Qg6,Raf1,Rd2,R4f2,Bd3,Qd5,Rxf2,Rxf2,Be4,Qe5,c5,Bc2,Bxc2,Nxc2,Rd8,h3,f6,Qf5,Qg3,Qf4', 'Rd1+,Rf1,Qxf4', 'https://lichess.org/training/iIYFT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iiZDI', 'Rapid', 'zelezny', 2227, 'dredik', 2271, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,c3,Nf5,O-O,h6,Nf3,e4,Ne5,Bd6,d4,O-O,Na3,a6,Nc2,Re8,f4,b5,Bb3,Bb7,g4,Nh4,Ne3,Nd7,Bc2,Bxe5,dxe5,Nf3+,Kh1,Qh4,Qe2,Ndxe5,fxe5,Rxe5,Bxe4,Ng5,Bg2,Rae8,Qf2,Qxf2,Rxf2,Rxe3,Bxe3,Rxe3,h3,Nxh3,Rf3,Rxf3,Bxf3,Ng5,Bg2,Bc8,Rd1,Bxg4,d6', 'Bxd1,dxc7,Bg4', 'https://lichess.org/training/iiZDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IiZog', 'Blitz', 'Amatourchesser', 1777, 'Gopalkrishna2977', 1905, 'd4,e6,e3,d5,f4,c5,Nf3,cxd4,exd4,Nc6,c3,Bd6,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/IiZog');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ij3A9', 'Blitz', 'RAHUL567', 1572, 'DiegoF', 1681, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Nd5,c4,Nb6,Nc3,Bb4,Bd2,O-O,Be2,d6,exd6,cxd6,O-O,Be6,b3,c5,Rc1,a5,Bf3,Ra7,Nd5,Bxd2,Qxd2,Nxd5,Bxd5,Bf5,Rfe1,Re8,Rxe8+,Qxe8,Re1,Re7,Rxe7,Qxe7,f3,Qa7,a3,h6,Kf2,Qb6,Qe3,Bc2,Qf4,Bg6,h4,Qxb3,h5,Bxh5,Qxd6,Qxa3,Be4,Qb2+,Kg3,Bg6,Bd5,Qf6,Qxc5,Qg5+,Kf2,Qh4+,Kg1,Qe1+,Kh2,Qe5+,Kg1,Qa1+,Kh2,a4,Kg3,Qe5+,Kf2,a3,Qxa3,Qd4+,Kg3,Qe5+,Kf2,Qd4+,Kg3,Qe5+,Kh3,Bf5+,g4,Bg6,Kg2,Qe2+,Kg3,Qe1+,Kf4,Qd2+,Qe3', 'Qh2#', 'https://lichess.org/training/ij3A9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IJ5VD', 'Rapid', 'Paulewski', 2170, 'nebchess', 2092, 'd4,Nf6,c4,e5,dxe5,Ng4,e4,Nxe5,f4,Ng6,Nf3,Bc5,Nc3,O-O,Na4,Qe7,Bd3,Nc6,Bd2,Nd4,Nxc5,Nxf3+,Qxf3,Qxc5,Bc3,d6,b4,Qb6,Rb1,Bd7,c5,dxc5,bxc5,Qxc5,Bb4,Qd4,Bxf8,Rxf8,Ke2,h5,Rhd1', 'Bg4,Qxg4,hxg4', 'https://lichess.org/training/IJ5VD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IJ9Q2', 'Rapid', 'IgorCru4inin', 1889, 'baskarraj', 1850, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,O-O,g6,h3,Bg7,Qe3,O-O,e5,dxe5,Nxe5,Nd5,Nxd5,Qxd5,Nxc6,Qxc6,Qxe7,Qxc2,Qxb7,Rfb8,Qf3,Bxb2,Bxb2,Qxb2,Rfb1,Qe5,Re1,Qb2,Qd5,Rd8,Qb3,Rab8,Qg3,Rbc8,Reb1,Qd4,Rd1,Qxd1+,Rxd1,Rxd1+,Kh2,Ra1,a3,Rac1,a4,Ra1,Qg4,Rac1,f4,f5,Qe2,R1c4,Qe6+,Kg7,Qe7+,Kh6,Qxa7,Rxf4', 'Qe3,Rc4,g3,Rxa4,gxf4', 'https://lichess.org/training/IJ9Q2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IJaqD', 'Rapid', 'FootballGirl7', 1774, 'MorvinGera', 1779, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Nf3,d6,h3,Nf6,Bd3,Bd7,O-O,O-O,Re1,Qc7,Be3,a6,a4,Rfe8,Qd2,Rad8,Bc4,Ne5,Nxe5,dxe5,Bd3,Bc6,f3,e6,a5,Rd7,Bb6,Qb8,Qe2,h6,Rad1,Kh7,Bc4,Rxd1,Rxd1,Qc8,Rd3,Re7', 'Rd8,Re8,Rxc8', 'https://lichess.org/training/IJaqD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IjaWN', 'Classical', 'ghadiribidhendi', 1878, 'erfan20', 1851, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,g6,d4,cxd4,Nxd4,Bg7,Ndb5,Bf8,Qg4,Nf6,Qh4,Be7,Bh6,a6,Nd4,Nxd4,O-O-O,Nb5,Bxb5,axb5,Qg3,b4,Nb5,Rxa2', 'Nc7+,Qxc7,Qxc7', 'https://lichess.org/training/IjaWN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJC14', 'Blitz', 'Genka1103', 1838, 'pinmonkey', 1785, 'e4,e5,f4,exf4,Nf3,Bd6,Bc4,Qe7,O-O,Nc6,d4,Bb4,c3,Ba5,Bxf4,d6,Bg5,f6,Bxg8,Rxg8,Bh4,Bd7,e5,dxe5,dxe5,Bb6+,Kh1,O-O-O,exf6,gxf6,Qc2,Qg7,Na3,Kb8,Rad1,Bf5,Rxd8+,Nxd8,Qe2,Ne6,Nd4,Nxd4,cxd4,Bd3,Qf3,Bxf1,Qxf1,Bxd4,Nb5,Bxb2,Qf2,b6,Qxb2,Qg4,Be1,Qe4,Qf2,Qb1,Nc3,Qc1,h3,Re8,Ne2,Qd1,Kh2,Qxe2,Qh4,Qe5+,Bg3,Qg5,Qxh7,Rg8', 'Qxc7+,Ka8,Qc6#', 'https://lichess.org/training/iJC14');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJc6t', 'Rapid', 'Vlvl26', 1652, 'VIELD', 1605, 'd4,d5,Nc3,Bf5,Bf4,Nd7,Nb5,e5,dxe5,a6,Nc3,Qe7,Nxd5,Qc5,Nc3,Nxe5,e4,Ng4,Bg3,Bd6,exf5,Bxg3,Qe2+,Ne7,hxg3,O-O-O,Qxg4,Nc6,Qxg7,Nb4,Rc1,Rhe8+,Be2,Qd6,Rd1,Nxc2+,Kf1', 'Qxd1+,Nxd1,Rxd1+,Bxd1,Re1#', 'https://lichess.org/training/iJc6t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IjCRV', 'Rapid', 'rojito', 1671, 'coco90', 1787, 'e4,e5,Nf3,Nf6,Bc4,Nc6,d3,Be7,c3,d6,h3,O-O,a3,Be6,b4,Bxc4,dxc4,Nxe4,Qe2,Nf6,O-O,Qd7,Be3,a6,Nbd2,Nd8,Rad1,Ne6,Nb3,c6,c5,Qc7,cxd6,Bxd6,c4,Nd7,c5,Be7,Bc1,f6,Nh4,Rfe8,Qg4,Ndf8,Nf5,Rad8,Bh6,g6,Bxf8,Bxf8,Rxd8,Rxd8,Nd6,Bxd6', 'Qxe6+,Qf7,Qxf7+,Kxf7,cxd6', 'https://lichess.org/training/IjCRV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IJcVB', 'Rapid', 'SS139158134', 1904, 'BenjiX', 1914, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Bb5+,Nc6,Ne5,Ne7,O-O,Bd7,Nxd7,Qxd7,Re1,O-O-O,d3,h5,Nc3,h4,h3,f6,a4,g5,a5,f5,Bxg5,Rg8,Bxe7,Bxe7,Qf3,f4,Nxd5,Qxd5,Qxd5,Rxd5,Bxc6,bxc6,Rxe7,f3,g4,hxg3,fxg3,Rxg3+,Kf2,Rxh3,Rae1,Rh2+,Kxf3,Rxc2,Rxa7,Rxd3+,Ke4,Rd4+,Ke5,Rd5+,Kf6,Rf2+,Kg6,Rxb2', 'Re8+,Rd8,Ra8+', 'https://lichess.org/training/IJcVB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IJDVj', 'Blitz', 'NM frostbitten', 2434, 'FM berval', 2508, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Qd3,Nc6,Nxc6,bxc6,Bd2,e5,Be2,a5,Qg3,O-O,Bh6,Ne8,O-O,Qf6,Bg5,Qg6,a3,Bxc3,bxc3,h6,Be7,Qxe4,Bd3,Qf4,Bxf8,Qxg3,fxg3,Kxf8,Rae1,d6,Bc4,d5,Be2,f6,Rb1,Nd6,Rb6,Bd7,Rd1,Ke7,Bf3,Nc4,Rb7,Nxa3,Bg4,Rd8,Ra1,Nc4,Rab1,Nd6,Ra7,f5,Bh5,Kf6,Rxa5,g6,Be2,Ne4,Rb3,c5,Ra6+,Kg7,Rb7,c4,Bf3', 'Nc5,Rba7,Nxa6', 'https://lichess.org/training/IJDVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IjdWR', 'Blitz', 'BezMozga', 2522, 'NM blitzbullet', 2501, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,h4,O-O,h5,dxc4,e4,Nxh5,Bxc4,Nc6,d5,Ne5,Be2,Nxf3+,Bxf3,Nf6,Bg5,Qd6,Qd2,c6,Bf4,Qb4,a3,Qc4,Be2,Qb3,Bd1,Qb6,Bh6,Bxh6,Qxh6,Qxb2,Rc1,cxd5,e5,Re8,Ba4,Bg4,Bxe8,Rxe8,Nxd5', 'Qe2#', 'https://lichess.org/training/IjdWR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJf1C', 'Rapid', 'mhrdadbazgyr', 1793, 'NotsoClinicalChess', 1792, 'e4,e5,Nf3,Nc6,Nc3,Nf6,a3,d5,exd5,Nxd5,Nxd5,Qxd5,h3,e4,Nh2,Bd6,b3,e3,dxe3,Qxd1+,Kxd1,Bf5,Bd2,O-O-O,Bc4,Ne5,Be2,Rd7,Nf3,Rhd8,Nd4,Bg6,Kc1,c5,Nb5,a6,Nxd6+,Rxd6,Rd1,b5,Kb2', 'Rxd2,Rxd2,Rxd2', 'https://lichess.org/training/iJf1C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJfcb', 'Rapid', 'momo_klaus', 1936, 'waelkhalil', 1990, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nf6,Nf3,Bg4,Be2,Nc6,O-O,Rd8,h3,Bc8,Bb5,a6,c4,Qh5,Bxc6+,bxc6,Qa4,Bxh3,Qxc6+,Bd7,Qxc5,Qxc5,dxc5,e6,b4,Be7,Rd1,Ng4,Bb2,f6,a4,a5,c6,Bxc6,b5,Bb7,Nc3,Bc5,Rxd8+,Kxd8,Rd1+,Kc7,Ne4,Bxe4,Nd4,Bxd4,Rxd4,Bf5,c5,Rd8', 'b6+,Kc8,b7+,Kxb7,Rxd8', 'https://lichess.org/training/iJfcb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IjGBP', 'Rapid', 'T-Bante', 1934, 'KerwinKappa7', 1934, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,d5,exd5,exd5,Bb5,Bd7,Be2,Bd6,O-O,Nf6,Bg5,h6,Bh4,g5,Bg3,Bxg3,hxg3,Qb6,Nb3,a5,a4,O-O-O,Na3,h5,Nb5,h4,gxh4,Rxh4,g3,Rh3,Bf3,Rdh8,N5d4,g4,Bg2,Rh2,Re1,Ne4,Rxe4,dxe4,Qd2,Ne5,Qc3+,Kb8,Nc5,Nf3+,Nxf3,gxf3,Nxd7+,Ka7,Nxb6', 'Rxg2+,Kf1,Rh1#', 'https://lichess.org/training/IjGBP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJGSM', 'Classical', 'bhirghu', 1859, 'jurgisj', 1847, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bg4,Be2,e6,O-O,c6,Re1,Be7,h3,Bh5,Bf4,Nbd7,Qd2,O-O,Rad1,Qb6,Qc1,Rad8,Na4,Qa5,b3,b5,Nb2,Ba3,Qb1,Nd5,Bd2,Bb4,Ng5,Bg6,Bxb4,Nxb4,Nd3,Nd5,c4,bxc4,bxc4,Nc3,Qb4,Nxe2+,Rxe2,Qxg5,Ne5,Nxe5,Rxe5,Qf6,Ra5,Ra8,Ra6,Rfc8,d5,cxd5,cxd5,Rd8,d6,Rab8,Qc5,Qf5,Qxa7,Qc2,Qd4,Be4,Ra7,Bd5,Rc7,Qxa2,d7,Qa5,Rdc1,h6,Qh4,Qa3,Rc8,Qf8,Rxb8,Rxb8,Qa4,Qd8,Qa7,Ra8', 'Qxa8,Qxa8,Rc8+,Kh7,Rxa8', 'https://lichess.org/training/iJGSM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJgtg', 'Rapid', 'Damogen', 1729, 'ben720', 1695, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Bg5,h6,Bh4,g5,Bg3,Nxe4,Nxc6,bxc6,Qd4,Qe7,Be2,Rg8,Bxc7,Bg7,Qe3,Bxb2,O-O,Bxa1,Nd2,Nxd2,Qxd2,Be5,Re1,d6,Ba5,Be6,Bf3,d5,Rxe5,Qd6,Qe2,g4,Bxg4,Rxg4,Qxg4,Qxe5,Qg8+,Kd7,Qxa8', 'Qa1+,Be1,Qxe1#', 'https://lichess.org/training/iJgtg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijgy8', 'Classical', 'Micheleparley', 1718, 'PionduRoi', 1674, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,Bc5,d3,a5,a4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Re1+,Ne7,Bxd7+,Qxd7,Bg5,f6,Bh4,O-O-O,Nd2,h5,Nb3,Bb4,Re2,g5,Bg3', 'h4,Be5,fxe5', 'https://lichess.org/training/ijgy8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IjGYV', 'Rapid', 'Not_master', 1740, 'MurlocChess', 1664, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,g6,b3,Bg7,Bb2,Nxe4,Nxe4,Bxb2,Rb1,Bg7,c3,O-O,O-O,Bf5,Qe2,d5,Bxd5,Qxd5,Rbe1,Bxe4,Qxe4,Qxe4,Rxe4,Nc6,Rfe1,e6,Rc4,b6,b4,Rac8,bxc5,bxc5,Rxc5,Ne7,Ra5,Nc6,Ra6,Rfd8,Rb1,Rc7,Kf1,Nb8,Ra5,Nc6,Ra6,Ne5,Nxe5,Bxe5,Ke2,Rdd7,g3,Rb7,Rb3,Rxb3,axb3,Kf8,d4,Bf6,Kd3,Ke7,b4,Rc7,b5,Rb7,Kc4,Kd7,Kc5,Be7+,Kc4,Kc7,f3,Bd8,Kc5,Kd7,c4,Bb6+,Kb4,Bxd4,c5,Rc7', 'Rd6+,Kc8,Rxd4', 'https://lichess.org/training/IjGYV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IjhOF', 'Blitz', 'larsbrastein', 1878, 'TajiriWWE', 1916, 'd4,Nf6,c4,e6,Nc3,Bb4,g3,c5,Nf3,cxd4,Nxd4,Nc6,Bg2,O-O,O-O,Bxc3,bxc3,a6,Ba3,Re8,Bd6,Qb6,c5,Qa5,Qb3,e5,Nf5,e4,Ne3,Re6,Nd5,Rxd6,Nb6,Rd2,Nxa8,Rxe2,Nb6,Ne7,Nxc8,Nxc8,Qxb7,Qd8,Qxa6,Rc2,Rfc1,Rd2,Rab1,Qc7,c6,dxc6,Rb7,Qd8,Qa8,e3,Rb8,exf2+,Kf1,Rd1+,Rxd1', 'Qxd1+,Kxf2,Ng4#', 'https://lichess.org/training/IjhOF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ijhxy', 'Rapid', 'SogD57', 1800, 'JT5150', 2031, 'd4,g6,Bf4,Bg7,Nf3,c5,c3,cxd4,cxd4,Qa5+,Nbd2,Nc6,e3,d5,Be2,Bg4,h3,Bxf3,Bxf3,e6,a3,Nge7,O-O,O-O,Rc1,Rac8,Nb3,Qb6,Bd6,Rfd8,Bc5,Qc7,Qd2,b6,Bxe7,Qxe7,Rc2,Qd7,Rfc1,Ne7,Qb4,Nf5,Be2,Bf8,Qd2,Nd6,Ba6,Rxc2,Rxc2,Ne4,Qe2,Qa4,Nc1,Nd6,Bd3,b5,Rc7,Qa5,Rc2,Nc4,Bxc4,bxc4,Na2,Qb6,Nc3,a6,Na4,Qb5,Nc3,Qd7,Rc1,Rb8,f3,Rb3,Qd2,Qb7,Rc2,Be7,Kh2,Qc7+,Kg1,Qg3,e4,Bg5,Qe2,dxe4,Nxe4,Qf4,Nxg5,Qxg5,Rxc4,Qd5,Rc8+,Kg7,Qe5+,Qxe5,dxe5,Rxb2,Rc6,a5,Ra6,Rb5,Kf2,Rxe5,Kg3,h5,h4,Kf6,Kh3,Kf5,Kg3,f6,Ra7,g5,hxg5,Kxg5', 'f4+,Kf5,fxe5', 'https://lichess.org/training/Ijhxy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IjiTz', 'Rapid', 'topsoul', 2109, 'fafe4321', 2045, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Qe2,Bc5,c3,O-O,Bb3,d5,d3,h6,h3,Be6,Bc2,d4,b4,Be7,b5,Na5,Nxe5,dxc3,Nxc3,Rc8,Bd2,c6,a4,Bb3,Bb1,Be6,Bc2,Bb3,Qd1,Bxc2,Qxc2,cxb5,axb5,b6,Qa4,Bd6,f4,Bxe5,fxe5,Qxd3,exf6,Rxc3,Bxc3,Qxc3+,Kf2,Nc4,Rhc1', 'Qe3+,Kf1,Nd2#', 'https://lichess.org/training/IjiTz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijjpD', 'Classical', 'adam130565', 1769, 'Fritz65', 1686, 'd4,d5,c4,e6,Nc3,dxc4,e3,a6,Bxc4,Nf6,Nf3,Bb4,O-O,O-O,Ne5,Nbd7,Nxf7,Kxf7,d5,Bxc3', 'dxe6+,Ke8,exd7+,Bxd7,bxc3', 'https://lichess.org/training/ijjpD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJkGu', 'Classical', 'lima_eduardo', 1670, 'ArtieFufkin', 1639, 'd4,Nf6,c4,e6,Nf3,c5,e3,Nc6,Nc3,cxd4,exd4,d5,Bf4,Bb4,a3,Be7,Qb3,O-O,Bd3,Na5,Qa2,a6,b4,Nc6,O-O,dxc4,Qxc4,Bd7,Ne4,Nxe4,Bxe4,Rc8,Qb3,b5,Rfd1,Bf6,Rac1,Qb6,d5,Nd4,Nxd4,Bxd4,Qg3,exd5,Bxd5,Qf6,Rd3,Rxc1+,Bxc1,Rc8,Bg5,Qf5,Bb7,Re8,Rd1,Be5,Qh4,Qc2,Rc1,Bb2,Rf1,Be6', 'Be4,Bf5,Bxc2', 'https://lichess.org/training/iJkGu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJKMb', 'Rapid', 'NicoOudhof', 1757, 'Covid2030', 1760, 'e4,e6,Nf3,d5,e5,f6,d4,c5,Be3,cxd4,Bxd4,fxe5,Bxe5,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,h6,Qe2,Nf6,O-O-O,Bd6,Bxd6,Qxd6,Ne5,O-O,Ng6,Rf7,Qd3,Be8,g3,Rc7,Nf4,Ng4,Qd2,b5,Ne4,Qa6,Nc3,b4,Ncxd5,Qxa2,Qxb4,exd5,Nxd5,Rd7,Ne7+,Kh7,Qe4+,Bg6', 'Qxg6+,Kh8,Rxd7', 'https://lichess.org/training/iJKMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijkts', 'Blitz', 'ResadRehimli', 1804, 'durbach98', 1787, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,c5,Bg5,h6,Bh4,g5,Bg3,b6,e3,Bb7,b3,dxc4,bxc4,cxd4,exd4,Bb4,Qb3,Bxc3+,Qxc3,Nc6,Be2,Ne4,Qb2,O-O,Nd2,Nxg3,hxg3,Qxd4,Qc2,Nb4,Qb3,Qxa1+,Bd1,Qe5+,Kf1,Nc6,Rxh6,Nd4,Qd3,f5,Nf3,Nxf3,Bxf3,Bxf3,gxf3,Rad8,Qa3,Rd1+,Kg2,Qe1,Rh8+,Kxh8,Qxf8+,Kh7,Qf7+,Kh6,Qf6+,Kh5,g4+,fxg4,fxg4+,Kxg4', 'Qf3+,Kh4,Qh3#', 'https://lichess.org/training/ijkts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijkvE', 'Rapid', 'antonior', 1861, 'pioneros', 1862, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,Ne7,Bg5,f6,Bh4,O-O,Qd2,Bg4,O-O-O,Bxf3,gxf3,Nbc6,Kb1,Nf5,Bg3,Ncxd4,Bg2,c6,Ne2,Nxe2,Qxe2,a5', 'Qe6+,Rf7,Qxf5', 'https://lichess.org/training/ijkvE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijmID', 'Rapid', 'LIOR1999', 2049, 'Two-legged-Nessie', 1960, 'f4,d5,Nf3,c5,e3,Nc6,Be2,Bf5,O-O,Nf6,d3,Qc7,Nbd2,O-O-O,Ne5,Nxe5,fxe5,Qxe5,g4,Qxe3+,Kh1,Bd7,g5,Ne4,dxe4,Bc6,Rf3,Qd4,c3,Qe5,Rf5,Qc7,Qc2,dxe4,Nxe4,g6,Rxf7,h6,Bf4,Qd7,Rd1,Qe6,Rxd8+,Kxd8,Rxf8+,Rxf8,Bf3,Rxf4', 'Qd2+,Kc8,Qxf4', 'https://lichess.org/training/ijmID');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IJmlr', 'Rapid', 'Doovd', 1668, 'Nee_Nee', 1689, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Nf6,O-O,O-O,Bg5,Bg4,h3,Bxf3,Qxf3,Nbd7,Nd2,c5,c3,c4,Bc2,b5,Rfe1,h6,Bh4,Be7,Kf1,Ne4,Bxe7', 'Nxd2+,Ke2,Nxf3', 'https://lichess.org/training/IJmlr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJNiV', 'Bullet', 'Rajeshm1', 1900, 'moronic', 1901, 'd4,Nf6,Nf3,d5,g3,Bf5,Bg2,e6,O-O,h6,Nc3,Be7,Re1,O-O,Nh4,Bh7,e4,dxe4,Nxe4,Nxe4,Bxe4,Bxh4,Bxb7,Nd7,Bxa8,Qxa8,gxh4,Be4,Qg4,Nf6,Qg3,Kh8,c3,Rg8,Kf1,Qb8,b3,Qb5+,c4,Qf5,Qf4', 'Qh3+,Kg1,Qg2#', 'https://lichess.org/training/iJNiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijP7c', 'Rapid', 'fernandorocha', 1752, 'Covid2030', 1792, 'd4,d5,c4,e6,Nf3,Bb4+,Nc3,Bxc3+,bxc3,Ne7,Bg5,f6,Bh4,O-O,e3,Nbc6,cxd5,Qxd5,Qc2,Nf5,Bg3,Qd7,Bd3,Nxg3,fxg3,g6,O-O,Rf7,e4,b6,e5,fxe5,Nxe5,Nxe5,dxe5,Rxf1+,Rxf1,Bb7,Qf2,Qxd3,Qf7+,Kh8,Qf6+,Kg8,Qxe6+,Kg7,Rf7+,Kh6', 'Qh3+,Kg5,Qh4#', 'https://lichess.org/training/ijP7c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJpVJ', 'Rapid', 'Kikuxtah', 1934, 'felix16', 1926, 'e4,c5,Nf3,d6,c3,Nf6,d3,e6,Be3,Nc6,h3,h5,Be2,Be7,Ng5,Bd7,a4,g6,f4,Nh7,h4,f6,Nf3,Qc7,d4,b6,Bd3,Na5,Nbd2,c4,Bc2,e5,fxe5,dxe5,Qe2,Rc8,O-O,O-O,Bh6,Rf7,b4,cxb3,Nxb3,Qxc3,Nxa5,Qxc2,Qxc2,Rxc2,Nb3,Rc3,Rfb1,exd4,Nbxd4,Bc5,Kh1,Nf8,a5,Kh7,Bxf8,Rxf8,axb6,Bxb6,Nb5,Bxb5,Rxb5,Re8,e5,f5,Rd1,Re6', 'Ng5+,Kg8,Nxe6', 'https://lichess.org/training/iJpVJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ijrvr', 'Blitz', 'yamunaji', 1790, 'hawkesj', 1785, 'e4,c5,Nf3,Nc6,c3,e5,b3,Nf6,Bb2,Nxe4,Qc2,Nf6,d3,d5,Be2,Bf5,O-O,e4,dxe4,Bxe4,Qd1,Bd6,Nbd2,Qc7,g3,Bg6,Re1,O-O-O,Nh4,Ne5,Nxg6,hxg6,Nf3,Nxf3+,Bxf3,Rh6,Bg4+,Kb8,c4,Rdh8,h4,Bxg3,Qf3,Bxh4', 'Be5,Qxe5,Rxe5,Nxg4,Qxg4', 'https://lichess.org/training/Ijrvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijSSI', 'Rapid', 'headbangar', 1697, 'spotthemitsake', 1720, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,Bg4,Be2,e5,O-O,Be7,Nd5,O-O,Nxe7+,Qxe7,Bg5,h6,Bh4,Rac8,Nd2,Bxe2,Qxe2,Nd4,Qd3,Nxc2,Rac1,Nb4,Qb3,Na6,f3,Nc5,Qe3,Qe6,b3,Rfd8,Rc3,b6,Rfc1,Rd7,b4,d5,bxc5', 'd4,Qe1,dxc3', 'https://lichess.org/training/ijSSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJsz5', 'Blitz', 'malchanceux', 1972, 'SVSHM', 2041, 'd4,d5,c4,Nf6,e3,e6,Nf3,Be7,Nbd2,O-O,b3,dxc4,Bxc4,a6,a4,b6,Bb2,Bb7,O-O,Nbd7,Rc1,Rc8,Qe2,c5,Bxa6,Bxa6,Qxa6,cxd4,Nxd4,Rxc1,Rxc1,Nc5,Qb5,Nce4,Nxe4,Nxe4,f3,Nd6,Qd3,Bf6,Bc3,Nf5,Qd2,Qb8,Nxf5,Bxc3,Ne7+,Kh8,Qxc3,Qd6,Qc7,Qd2,Rc2,Qxe3+,Kf1,Qd3+,Kf2,Qd4+,Ke2,Qg1,g3,Qxh2+,Ke3,Qg1+,Kf4,Qd4+,Kg5,h6+,Kh5,Kh7,Qc4', 'g6+,Nxg6,fxg6#', 'https://lichess.org/training/iJsz5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijTI3', 'Rapid', 'notConcentrated', 1958, 'binbiryuz', 1960, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c5,e3,Nc6,cxd5,exd5,dxc5,Bxc5,a3,Bg4,Bb5,O-O,O-O,Rc8,h3,Bh5,b4,Bb6,Bb2,d4,exd4,Nxd4,Be2,Nxe2+,Qxe2,Re8,Rad1,Qc7,Qd3,Rcd8,Qf5,Rxd1,Rxd1,Bg6,Qb5,a6,Qa4,h6', 'Nd5,Bxf2+,Kxf2,Ne4+,Kg1', 'https://lichess.org/training/ijTI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IJtiT', 'Rapid', 'xande1425', 1833, 'bradislava', 1856, 'c4,Nf6,Nf3,d5,cxd5,Qxd5,Nc3,Qc6,d4,Nd5,Nxd5,Qxd5,e3,Bg4,Be2,Nc6,O-O,e5,dxe5,O-O-O,Qxd5,Rxd5,Bc4,Bxf3,Bxd5,Bxd5,Rd1,Be6,b3,Nxe5,Bb2,Bd6,Rac1,Kb8,Rc2,f6,h3,Rd8,Rcd2,Nf7,Ba3,Kc8,Bxd6,Rxd6,Kh2,Rxd2,Rxd2,Nd6,f3,Kd7,Kg3,Kc6,Rc2+,Kb6,e4,c5,Re2,Nf7,f4,Kc6,f5,Bd7,Kf4,b5,Re3,Ne5,g4,g5+,Kg3,Kd6,Re1,Bc6,Rd1+,Ke7,Rc1,Nd3,Rc2,Kd6,Re2,Ke5,h4,h6,hxg5,hxg5,Rh2,Bxe4,Rh7,Nc1,Rxa7,Bb1,Re7+,Kd5,Re1,Bxa2,Rd1+,Kc6,Rxc1,Bxb3,Re1,Bd5,Re8,c4,Rf8,c3,Rc8+,Kd6,Rxc3,b4,Rc2,Ke5,Rb2', 'b3,Kf2,Kf4', 'https://lichess.org/training/IJtiT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijtZn', 'Rapid', 'Mojtaba1359v', 1892, 'DEEPMIND105', 2006, 'e4,e5,Bc4,Nf6,d3,d6,h3,Be6,Bb3,Bxb3,axb3,Be7,Nc3,c6,f4,exf4,Bxf4,Nbd7,Nf3,h6,O-O,O-O,Nh2,Ne5,Bxe5,dxe5,Nf3,Bc5+,Kh2,Re8,Na4,Bd6,Nc3,Qd7,Nh4,g6,Rxf6,Be7,Rf2,Bxh4,Qg4', 'Qxg4,hxg4,Bxf2', 'https://lichess.org/training/ijtZn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijUzM', 'Blitz', 'Jfriendship', 1560, 'Schachablanca87', 1533, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,O-O,d6,Qb3,O-O,d4,Bb6,Qd1,Re8,Bb3,Be6,Bc2,h6,Re1,exd4,cxd4,d5,e5,Ne4,Rxe4,dxe4,Bxe4,Bd5,Nbd2,Bxe4,Nxe4,Nxd4,Nxd4,Bxd4,Nf6+,gxf6,Bxh6,Bxf2+,Kxf2,Qxd1,Rxd1,fxe5,Rd7,Re6,Be3,b6,Rxc7,Kg7,g4,Kg6,h4,f5', 'h5+,Kf6,g5#', 'https://lichess.org/training/ijUzM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijV1Z', 'Rapid', 'jkarlos7676', 1694, 'MiIer', 1673, 'e4,e5,Bc4,Nf6,Nf3,h6,Nxe5,d5,exd5,Nxd5,O-O,Be6,Re1,Be7,Bxd5,Qxd5,c4,Qd6,d4,O-O,d5,Bf5,b3,Nd7,Ba3,Qf6,Bxe7,Qxe7,Ng6,Qf6,Nxf8,Qxa1,Nxd7,Bxd7,Qc2,Re8,Rxe8+,Bxe8,h3,Bd7,Kh2,Qe5+,g3,Bf5,Qc1,Qe2,Qd2,Qf3,Qe3', 'Qxe3,fxe3,Bxb1', 'https://lichess.org/training/ijV1Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijVnj', 'Classical', 'BlunderfulKnight', 1911, 'ptk77', 1903, 'e4,e5,Nf3,d6,d4,f6,Bc4,Bg4,O-O,Bxf3,Qxf3,exd4,Qh5+,g6,Qd5,Nc6', 'Qf7#', 'https://lichess.org/training/ijVnj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IjwRG', 'Blitz', 'Nally', 1802, 'Ge_fest', 1717, 'd4,d5,c4,e5,dxe5,d4,Nf3,Bb4+,Bd2,Bc5,a3,a6,b4,Ba7,c5,b6,Bg5,f6,exf6,Nxf6,Nxd4,bxc5,bxc5,Bxc5,e3,O-O,Bc4+,Kh8,O-O,Qe8,Nc3,Bb7,Ne6,Qg6,Nxf8,Qxg5,f3,Qxe3+,Kh1,Ng4,Ng6+,hxg6,Qd8+,Kh7,Qh4+,Nh6,Ne4,Qd4,Ng5+,Kh8,Rad1,Qxh4', 'Rd8+,Bf8,Rxf8+,Ng8,Rxg8#', 'https://lichess.org/training/IjwRG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijx1v', 'Rapid', 'valach', 1805, 'mosa6', 1947, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,d6,O-O,Nf6,Nc3,Be7,d4,O-O,Bxf4,Na5,Bd3,c5,e5,dxe5,dxe5,Nh5,Bxh7+,Kxh7,Ng5+,Bxg5,Qxh5+,Bh6,Bxh6,gxh6,Rxf7+,Rxf7,Qxf7+,Kh8,Rd1,Qg5,Qf8+,Kh7,Nd5,Bg4,Nf6+,Kg6,Qd6,Bxd1', 'Ne4+,Kf5,Nxg5', 'https://lichess.org/training/ijx1v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IJysO', 'Bullet', 'FM szeprozse', 2233, 'LoiuseMichel', 2305, 'e4,c5,Nf3,g6,c4,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be2,Nxd4,Qxd4,Bg7,Be3,O-O,Qd2,a5,Rc1,a4,O-O,Qa5,f3,Be6,Rfd1,Rfc8,Nd5,Nxd5,Qxa5,Rxa5,cxd5,Bd7,Rxc8+,Bxc8,Rc1,Ra8,Rc2,e6,Bc4,exd5,Bxd5,Be6,Bxb7,Rb8,Bc6,Bxa2,Bxa4,Bxb2,g4,Kg7', 'Rxb2,Rxb2,Bd4+,f6,Bxb2', 'https://lichess.org/training/IJysO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijZEi', 'Classical', 'MikTalJR', 1858, 'SaturnPrince', 1892, 'd4,Nf6,b3,d5,Bb2,e6,a3,c5,e3,Nc6,Nf3,cxd4,exd4,Bd6,Be2,O-O,Nbd2,Re8,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Rxe5,Nf3,Rh5,Nd4,Rh6,c4,dxc4,bxc4,Qc7,f4,b6,Rc1,Bb7,Nb5,Qc5+,Qd4,Qe7,Bf3,Rd8,Qc3,Ne4,Bxe4,Qxe4,Rf2,Rf6,Re1,Qc6,Nxa7,Qc5,Qe5,Qxa3,Nb5,Qa8,Nd4,Rg6,g3,Ba6,f5,Rg4,Nc6,Qxc6,f6,gxf6,Rxf6,Qc5+,Qxc5,bxc5,Rxa6,Rxc4,h4,Rd2,h5,Rcc2', 'Re8+,Kg7,h6#', 'https://lichess.org/training/ijZEi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ijZFq', 'Blitz', 'kompreng123', 1766, 'BenyaminGz', 1748, 'd4,Nf6,Nf3,d6,e3,g6,Bc4,Bg7,O-O,O-O,a3,Nc6,Nbd2,Re8,b4,e5,Bb2,exd4,Nxd4,Nxd4,Bxd4,a6,Qf3,d5,Bd3,Bg4', 'Bxf6,Bxf6,Qxg4,Bxa1,Rxa1', 'https://lichess.org/training/ijZFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iJZnZ', 'Rapid', 'simpleman19', 1864, 'ecie-pecie5', 1896, 'c4,e5,Nf3,Nc6,g3,Nf6,Bg2,d5,cxd5,Nxd5,O-O,Be7,d4,e4,Ne5,Bf5,Nxc6,bxc6,Nc3,Nxc3,bxc3,Qd5,Bf4,h5,Bxc7,h4,Qb3,Qd7,Be5,f6,Bf4,g5,Be3,Bh3,Bxe4,Bxf1,Bg6+,Kd8,Kxf1,hxg3,fxg3,Qh3+,Ke1,Qxh2,Kd2,Qxg3,Qb7,Rb8,Qxc6,Rb2+,Kd3,Rh3', 'Qe8+,Kc7,Qxe7+', 'https://lichess.org/training/iJZnZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ik6qi', 'Rapid', 'robtrini', 1749, 'aacostaat', 1729, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,e5,Ndb5,a6,Na3,b5,Nd5,Nf6,c3,Be7,Bd3,O-O,Nc2,h6,O-O,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/ik6qi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ik86P', 'Rapid', 'madaranip7', 2026, 'Armenyaarmen2000', 1991, 'e4,c5,Nf3,e6,c3,a6,d4,b6,d5,d6,Bc4,e5,a4,h6,O-O,Nf6,Re1,Bg4,Nbd2,g5,Nf1,Bg7,Ng3,Nbd7,h3,Bh5,Nxh5,Nxh5,Nxe5', 'Nxe5,Qxh5,Nxc4', 'https://lichess.org/training/ik86P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IK8nR', 'Rapid', 'Ramelov_724', 1859, 'Yory21', 1837, 'd4,c5,c3,e6,Bf4,Nc6,e3,d5,Nf3,a6,Bd3,c4,Bc2,b5,a3,a5,O-O,a4,Nbd2,Na5,Ne5,Nb3,Nxb3,axb3,Bb1,Ra6,e4,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/IK8nR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IKbcw', 'Blitz', 'Potuh', 2417, 'CM Davigator', 2334, 'd4,Nf6,Nf3,e6,Bf4,c5,c3,Qb6,Qb3,d5,e3,Be7,Nbd2,O-O,h3,Bd7,Bd3,Nc6,O-O,c4,Qxb6,axb6,Bc2,b5,a3,Ra6,Rac1,Rfa8,e4,Be8,exd5,exd5,Rfe1,Bf8,Ne5,Nxe5,Bxe5,Nd7,Bf4,Nb6,Rb1,Bd7,Nf3,h6,Ne5,Be6,Ng6,Na4,Nxf8,Kxf8,Bg3,Rd8,f4,g6,Bh4,Rd7,Rf1,Bf5,Bxf5,gxf5,Rfe1,Re6,Kf1,Re4,Bf6,Rd6,Be5,Rc6,Rxe4,fxe4,f5,f6,Bf4,h5,g4,hxg4,hxg4,Kf7,Kg2,Rc8,Kg3,Rh8,Kg2,Rh4,Kg3,Rh7,Kg2,Ke7,Kg3,Kd7,Kg2,Rg7,Kg3,Ke7,Bd2,Kf7,Bf4,Nb6,Bd2,Nc8,Ra1,Ne7,Kf4,Rh7,a4,Rh2,Bc1,bxa4,Rxa4,Rh1,Bd2,Nc6,g5,fxg5+,Kxg5,Rg1+,Kf4,Kf6,Be3,Rf1+,Kg4,Rxf5,Ra8,Rf3,Rf8+,Ke6,Rxf3,exf3,Kxf3,Ne7,Ke2,Kf5,Kf3,Ng6,Bd2,Nh4+,Ke2,Ke4,Be1,Nf5,Bf2,Nd6,Kd2,Nb5,Kc2,Kf3,Be1,Ke2,Bd2,Nd6,Bc1,Ne4,b3,b5,bxc4,bxc4,Ba3,Nf2,Bb4,Nd1,Ba5,Ne3+,Kb2,Kd2,Bb4,Nd1+,Ka3,Nxc3', 'Kb2,Kd3,Bxc3', 'https://lichess.org/training/IKbcw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IKCv3', 'Rapid', 'Aleks7391', 1652, 'ahmetonur04', 1627, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,c6,Bc4,d5,exd5,cxd5,Bxd5,Qxd5,d3,Bd6,c4,Qe5', 'Re1,Ne7,Rxe5', 'https://lichess.org/training/IKCv3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ikCYT', 'Rapid', 'PeterArb1991', 1695, 'FetteBerta', 1658, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nf3,e6,Bf4,c5,Be5,cxd4,Nxd4', 'Qa5+,Nc3,Qxe5+', 'https://lichess.org/training/ikCYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iKd07', 'Rapid', 'Jupp3', 1801, 'szabadgyalog', 1826, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,e4,O-O,Be2,Nc6,O-O,Nd7,Be3,e5,d5,Ne7,Rc1,f5,Bg5,fxe4,Nxe4,Nf6,Nxf6+,Bxf6,Bxf6,Rxf6,Rc3,Nf5,Qd2,Nd4,Nxd4,exd4,Rg3,Bf5,Qh6,d3,Bxd3,Bxd3,Rxd3,Rf5,Rh3,Qe7,Re3,Qf7,f3', 'Rh5,Qxh5,gxh5', 'https://lichess.org/training/iKd07');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IkEFu', 'Rapid', 'ZIN77L', 1766, 'dimanik', 1793, 'e4,g6,d4,Bg7,Nf3,e6,Ng5,b6,Qf3,f6,Nh3,Bb7,Bd3,f5,Bg5,Bf6,Bxf6,Qxf6,c3,Nc6,d5,exd5,exd5,Ne5,Qe3,O-O-O,Bb5,Nh6,Qxh6,Rhe8,O-O,Ng4,Qf4,Bxd5,Ba6+,Kb8,Na3,Qc6,f3,Ne5,c4,Nd3,cxd5', 'Qc5+,Kh1,Nxf4', 'https://lichess.org/training/IkEFu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IkEsn', 'Rapid', 'dr_adel2008', 1868, 'ya_jest_grut', 1986, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,Be3,Nf6,N1c3,a6,Na3,b5,Nd5,Nxe4,c4,Qa5+,Ke2,Nd4+,Bxd4,exd4,Qxd4,Nc5,b4,Qxa3,Nc7+,Kd7,Nxa8,Na4,f3,Nc3+,Kf2', 'Qb2+,Be2,Qxe2+', 'https://lichess.org/training/IkEsn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IKibG', 'Rapid', 'TakbirAhmed', 1823, 'UriyTomson', 1762, 'e4,Nc6,d4,e6,Nf3,d5,exd5,exd5,Bf4,Nf6,Bd3,Bd6,Bg3,O-O,Nbd2,Bg4,O-O,Nxd4,c3,Nxf3+,Nxf3,Nh5,Bxd6,Qxd6,Bxh7+,Kxh7,Ng5+,Kg8,Qxg4,g6,Rad1,c6,Qd4,Qf6,Qd2,Rad8,Rfe1,c5,Nf3,b6,Re3,c4,Rde1,Ng7,Nd4,Rd6,Re7,a6,a4,Nh5,Ra7,a5,Rae7,Nf4,Qe3,Qg5,Re8', 'Qxg2#', 'https://lichess.org/training/IKibG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ikJit', 'Rapid', 'EduardP', 1659, 'SamarMirza', 1654, 'd4,Nf6,Bf4,e6,Nc3,c5,e3,cxd4,exd4,Bb4,Bd3,O-O,Nf3,b6,O-O,Bb7,Re1,h6,h3,Nc6,a3,Bxc3,bxc3,Rc8,c4,Na5,c5,bxc5,dxc5,Rxc5,Bd6,Rc6,Bxf8,Qxf8,Re5,Nc4,Rb5,Ba6,Rb4,Nxa3,Qd2,Bxd3,cxd3,Nc2,Rxa7,Nxb4,Ne5,Rc2,Qf4,Qc5,Ra8+,Kh7,Nxf7,Rc1+,Kh2,Qc7', 'Rh8+,Kg6,Ne5+,Qxe5,Qxe5', 'https://lichess.org/training/ikJit');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iKJXY', 'Blitz', 'Melospego', 2016, 'canberkakbas', 1955, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,Be7,Bg5,h6,Bh4,Ne4,Bxe7,Qxe7,e3,O-O,Qb3,c6,Bd3,f5,Ne5,Qf6,cxd5,Nxc3,dxc6,Nxc6,Nxc6,bxc6,Qxc3,Bb7,O-O,f4,e4,f3,g3,Qg5,Rfe1,a5,a3,Ba6,Bxa6,Rxa6,Qd3,Rb6,Rab1,a4,Re3,Rb3,Qd2,Qh5,Rxb3,axb3,Qd1,Qg4,Qe1,h5,Rc1,h4,Rxc6,hxg3,hxg3,Rf6,e5,Rh6,Rc8+,Kf7,Rc7+,Kg8,Rc8+,Kh7,Qb1+,g6,Rc7+,Kg8,Rc8+,Kg7,Qc1', 'Rh1+,Kxh1,Qh3+,Kg1,Qg2#', 'https://lichess.org/training/iKJXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ikk0j', 'Classical', 'Seneca87', 1657, 'ivek', 1616, 'e4,c6,d4,d6,Bd3,Qc7,Nf3,h6,Bf4,Bg4,Bg3,Nd7,Nbd2,Ngf6,O-O,e5,c3,b5,Qc2,a5,a3,Be7,b4,axb4,axb4,Rxa1,Rxa1,O-O,h3,Bh5,Qa2,c5,d5,c4,Be2,Bg6,Qc2,Nh5,Nh2,Nxg3,fxg3,f5,Rf1,fxe4,Rxf8+,Kxf8,Nxe4,Nf6,Bf3,Qb7,Qe2,Qa7+,Kf1,Nxd5,Bg4,Bxe4,Qxe4,Nxc3,Qf3+,Bf6,Qxc3,e4,Qd2,Qa1+,Ke2,Qg1,Qxd6+,Be7,Qf4+,Ke8,Bh5+,Kd8,Ng4,Qxg2+,Ke3', 'Bg5,Qxg5+,hxg5', 'https://lichess.org/training/Ikk0j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ikll5', 'Rapid', 'Kevin1970', 2011, 'damin_gambit', 2048, 'd4,Nf6,Nc3,d5,Bg5,e6,e4,dxe4,Nxe4,Be7,Bxf6,Bxf6,Nf3,Be7,Bd3,O-O,Qe2,b6,O-O-O,Bb7,h4,Nd7,g4,Nf6,Rdg1,Nxe4,Bxe4,Bxe4,Qxe4,Qd5,Qd3,c5,Ng5,Bxg5+,hxg5,Qxg5+,Kb1,Qg6,Qg3,cxd4,f4,Rac8,Rh2,Rc7', 'f5,exf5,Qxc7', 'https://lichess.org/training/Ikll5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iKlLp', 'Rapid', 'brozman', 1819, 'schellnkini', 2068, 'b4,e6,Bb2,Nf6,a3,a5,b5,a4,Nf3,c6,e3,d5,c4,dxc4,Bxc4,Bd7,bxc6,Bxc6,O-O,Be7,Ne5,O-O,Nxc6,Nxc6,Bb5,Qb6,Nc3,Rfd8,Qc2,Nd5,Bxa4,Nxc3,Bxc3,Na5,d3,Qa6,Rfd1,b5,Bb3,Nxb3,Qxb3,Qa4,Qxa4,Rxa4,Bb2,Rda8,Rdb1,Bxa3,Bxa3,Rxa3,Rxa3,Rxa3,d4,Kf8,Kf1,Ra5,Ke2,Ke7,g3,Kd6,e4,f6,Kd3,Ra3+,Ke2,Kc6,Kd2,h5,Rc1+,Kd6,Rc3,b4,Rxa3,bxa3,Kc2,Kc6,Kb3,Kb5,Kxa3', 'Kc4,d5,exd5', 'https://lichess.org/training/iKlLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iKnA5', 'Rapid', 'Coco2305', 1764, 'SupraMisplays', 1733, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,d6,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,O-O,Ng4,h3,h5,Qf3,Ne5,Qe2,Qh4,Kh2,Ng4+,Kg1,Ne5,Kh2,Bg4,f3,Bd7,Bb3,d5,exd5,Bd6,f4,Bg4,Qe3,f6,fxe5,Bxe5+,Kg1,Bd7,Bd2,O-O-O,Qxa7', 'Bd4+,Be3,Bxa7', 'https://lichess.org/training/iKnA5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iknYG', 'Rapid', 'quimera999', 1776, 'ThomasBaczkowski', 1806, 'e4,f5,Nf3,fxe4,Nd4,e5,Qh5+,g6,Qxe5+,Qe7,Qxh8,Nf6,Bc4,c5,Ne2,d5,Bb3,Nc6,Nbc3,Be6,Nf4,O-O-O,Ncxd5,Bxd5,Nxd5,Nxd5,Bxd5,Rxd5,Qc3,Bg7,Qh3+,Kb8,Qxh7,Qf7,O-O', 'Rh5,Qxh5,gxh5', 'https://lichess.org/training/iknYG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IKP8k', 'Blitz', 'Egeoz', 2095, 'ersinorak', 2339, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qh5,Nxe4,Be6,Bg5,h6,Bf6,Be7,Bxe7,Nxe7,Nxd4,Qxd1,Raxd1,O-O-O,Nxe6,fxe6,Nc5,Rxd1,Rxd1,e5,Ne6,g5,Kf1,Nc6,Ke2,Re8,Ng7,Re7,Nf5,Re6,c3,b6,Ke3,Na5,b3,Nb7,Ke4,Nd6+,Nxd6+,cxd6,Kf5,Kd7,f3,Ke7,g3,Rf6+,Ke4,Ke6,Rd5,h5,c4,g4,f4,Rf5,a4,Rf8,fxe5,dxe5,Rxe5+,Kd6,Rxh5,Rf3,Rh6+,Kc5,Rh5+,Kb4,Rb5+,Kc3,Ke5,Rf2,Ke4,Rf8,Rg5,Kxb3,Rxg4,Kxa4,Kd5,Rd8+,Ke6,Kb4,h4,a5,h5,a4,h6,Rh8,Rh4,a3,g4', 'a2,Rh1,Rxh6+,Rxh6,a1=Q', 'https://lichess.org/training/IKP8k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ikq4X', 'Classical', 'vfgbnh', 1666, 'Abu-Ghassan', 1684, 'Nc3,e5,Nf3,Nc6,d4,d6,d5,Nce7,e4,Bg4,Bb5+,c6,dxc6,bxc6,Bxc6+,Nxc6,Qd5,Qc7,b4,Nge7,Qc4,Be6,Nd5,Qb7,b5,Bxd5,exd5,Na5,Qa4,Qc7', 'b6+,Qd7,Qxa5', 'https://lichess.org/training/ikq4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IkQeg', 'Rapid', 'KingMeTaco666', 1895, 'ohhboynotagain', 1808, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,O-O,d6,d4,exd4,Nxd4,Bd7,Bxc6,bxc6,Nc3,Ne7,Bg5,h6,Bh4,O-O,Nf5,Re8,Qg4,Bxf5,exf5,Rb8,f6,Ng6,g3,Rb4,Qh3,Nxh4,gxh4,Qxf6,Kh1,Qxh4,Qd7,Qe7,Qxc6,Rxb2,Rae1,Qxe1,Rxe1,Rxe1+,Kg2,Rxc2,Ne4,Rxa2,Qe8+,Kh7,Qxf7,Rae2', 'Nf6+,Kh8,Qf8#', 'https://lichess.org/training/IkQeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ikR0L', 'Blitz', 'Eko_WJ', 2004, 'taljechin', 1988, 'd4,d5,c4,Nf6,Nc3,g6,Nf3,Bg7,Bf4,e6,e3,O-O,Be2,dxc4,Bxc4,b6,Bb3,Bb7,O-O,Nbd7,Qe2,c5,Rfd1,Nh5,Bd6,Re8,dxc5,bxc5,Bxc5,Nhf6,Ba4,Qc7,Bd6,Qb6,Be5,Nxe5,Nxe5,Red8,Nd7,Nxd7,Rxd7,Rxd7,Bxd7,Rd8,Rd1,Ba6,Bb5', 'Rxd1+,Qxd1,Bxb5,Nxb5,Qxb5', 'https://lichess.org/training/ikR0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IKSwg', 'Classical', 'Vanraj', 2106, 'kk51', 2162, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Nc6,Ngf3,Be7,Be2,O-O,O-O,f6,Kh1,f5,Nb3,c4,Nbd2,b5,Rf2,a5,a4,b4,Ng5,Nb6,Ndf3,Bd7,Be3,b3,Qg1,Bxg5,Nxg5,Qe7,g4,Nd8,gxf5,exf5,Rg2,Nxa4,Bh5,Nb6,Bf2,Be8,Bxe8,Rxe8,e6,g6,Bh4,Qg7,Re1,Nc8,Re5,Ne7,Qe3,Ndc6,Nf7,Nxe5,dxe5,Nc8', 'Bf6,Rxe6,Bxg7', 'https://lichess.org/training/IKSwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iKtbS', 'Blitz', 'FM Frogkiller', 2458, 'hammdan_cadas', 2405, 'e4,e6,d4,Ne7,Bd3,g6,Be3,Bg7,Qd2,h6,Nf3,d6,c4,Nd7,Nc3,Nf6,h3,Nd7,O-O,e5,Rfe1,Nc6,d5,Nd4,Bxd4,exd4,Nb5,Ne5,Nbxd4,O-O,Nxe5,Bxe5,Nf3,Bg7,e5,Re8,e6,f5,h4,Qf6,Re2,c6,Rae1,Re7,Qc2,c5,h5,b5,b3,a5,hxg6,a4,Bxf5,axb3,axb3,Ra3,Nd2,b4,Re3,Bb7,Rf3,Ra1,Rxa1,Qxa1+,Kh2,Be5+,g3,Qe1,Kg2,h5,Be4,h4,gxh4,Bc3,Nf1,Rxe6,Bf5,Rf6,Bg4,Rxf3,Bxf3,Bc8,Qe4,Bh3+,Kxh3,Qxf1+,Bg2,Qxf2,Qe6+,Kg7,Qxd6', 'Qf5+,Kg3,Be5+,Qxe5+,Qxe5+', 'https://lichess.org/training/iKtbS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IKTF3', 'Rapid', 'sidhanta', 1693, 'Leod52', 1635, 'd4,d5,c4,c6,e3,g6,Nf3,Bg7,cxd5,cxd5,Be2,Nc6,O-O,Nf6,b3,O-O,Bb2,Bg4,Qc2,Rc8,Qd3,Nb4,Qd1,Nc2,Nc3,Nxa1,Bxa1,a6,h3,Bf5,Ng5,h6,Nf3,Qa5,Ne5,Rxc3,Bxc3,Qxc3,f4,Ne4,g4,Be6,Bd3,Qa5,Qe2,Rc8,f5,Ng3,Qf3,Nxf1,fxe6,f6,Nxg6,Rc1,Nxe7+,Kf8,Ng6+,Ke8,Bxf1,Qd2,Qxd5,Rxf1+,Kxf1,Qd3+,Kf2,Qd2+,Kf3,Qd1+,Kf2,Qd2+,Kf3,Qd1+,Ke4', 'Qh1+,Kd3,Qxd5', 'https://lichess.org/training/IKTF3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ikw4j', 'Rapid', 'NinjaajniN', 1865, 'Weapon_Lex', 1960, 'e4,c6,Nc3,d5,exd5,cxd5,Bb5+,Nc6,Bxc6+,bxc6,d4,Bf5,Nf3,e6,O-O,Bd6,h3,Ne7,Bg5,h6,Bh4,g5,Bg3,Bxg3,fxg3,Qc7,g4,Bh7,Ne5,Ng6', 'Rxf7,Qxf7,Nxf7', 'https://lichess.org/training/Ikw4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ikXRu', 'Blitz', 'FelixMillanDuterte', 1908, 'Tryforce', 1972, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,g6,Nc3,Bg7,Bb5,Bd7,Bxc6,bxc6,O-O,Nf6,h3,O-O,Be3,a6,Qd2,Re8,Bh6,Bh8,Rad1,Rb8,e5,dxe5,dxe5,Nd5,Nxd5,cxd5,Qxd5,Be6,Qe4,Qb6,Ng5,Bf5,Qh4,Bxe5,Bf8,Kxf8,Qxh7,Qf6,Qh4,Qg7,Rfe1,Bf6,Nh7+,Kg8,Nxf6+,exf6,Rxe8+,Rxe8,Qa4,Re6', 'Rd8+,Kh7,Qh4+,Qh6,Rh8+,Kxh8,Qxh6+', 'https://lichess.org/training/ikXRu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IkY6M', 'Rapid', 'AB123456', 1821, 'kingkiller00', 1887, 'd4,Nf6,c4,d5,e3,Bf5,Nf3,e6,Nc3,Bb4,Bd2,c6,a3,Ba5,b4,Bc7,cxd5,exd5,Be2,O-O,O-O,Qd6,g3,Nbd7,Nh4,Be4,Bf3,Bxf3,Qxf3,Rfe8,Rfe1,Ne4,Nxe4,Rxe4,Qg2,a5,f3,Re6,Qh3,g6,f4,a4,f5,Re4,fxg6,fxg6,Rf1,Nb6,Nf3,Nc4,Bc1,Qe7,Qh6,Rf8,Ra2,Nxe3,Bxe3,Rxe3,Raf2,Bb6,Ng5,Rxf2,Rxf2,Re1+,Kg2,Bxd4', 'Rf8+,Qxf8,Qxh7#', 'https://lichess.org/training/IkY6M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IKykC', 'Blitz', 'xxvn', 1880, 'ThomasWilhelm', 1801, 'd4,Nf6,Nc3,e6,Bf4,Be7,e4,b6,e5,Nd5,Nxd5,exd5,g3,Ba6,Bg2,Bb7,Ne2,O-O,Nc3,c6,Qg4,Kh8,h4,d6,h5,Bc8,Qf3,Bg5,exd6,Bxf4,Qxf4,Nd7,O-O-O,Nf6,g4,Bxg4,Bf3,Bxf3,Qxf3,Ne4,Nxe4,dxe4,Qxe4,Qxd6,Rdg1,Rae8,Qg4,Qf6,c3,Re6,f4,Rfe8,Rg2,Re1+,Rxe1,Rxe1+,Kd2,Re8,a4,a6,b4,h6,f5,Rg8,Qf3,Re8,Rg4,Rd8,Re4,c5,Ke3,cxd4+,Rxd4,Re8+,Kd3,Qg5,Re4,Rd8+,Kc2,Qg1,Qe3', 'Qd1+,Kb2,Rd2+,Qxd2,Qxd2+', 'https://lichess.org/training/IKykC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IKYVG', 'Rapid', 'PepeMaster', 2113, 'begychiy', 1680, 'e4,g6,e5,e6,Nf3,c6,d4,Bg7,Bd3,Ne7,a3,O-O,O-O,d6,c3,dxe5,Nxe5,Nd5,Bd2,f6,Nf3,e5,dxe5,fxe5,Be4,Be6,Qc1,Nf4,Re1,Bc4,Bxf4,Rxf4,Nbd2,Be6,b3,Nd7,Nc4,Qc7,Ncxe5,Bxe5,Nxe5,Qxe5,Bxg6,Qf6,Bc2,Rh4', 'Rxe6,Qxe6,Qg5+,Kf8,Qxh4', 'https://lichess.org/training/IKYVG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ikzi9', 'Classical', 'devahuja', 1638, 'Roman_Sk94', 1651, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Ne7,O-O,c6,Re1,Kd6,Qe4,Ng6,Bxd5,cxd5,Qxd5+,Kc7', 'Nb5+,Kb6,Qxd8+', 'https://lichess.org/training/Ikzi9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IKZxi', 'Blitz', 'remos_edm', 1921, 'Boyebrm', 1926, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,c3,Bc5,O-O,dxc3,Bxf7+,Kf8,Qd5,Qe7,e5,d6,e6,Nf6,Qc4,c2,Nc3,Na5,Qe2,Nc6,Re1,g5,Qxc2,Kg7,Bxg5,hxg5,Qg6+,Kf8,Nxg5,Ne5,Rxe5,dxe5,Nd5,Nxd5', 'Nh7+,Rxh7,Qg8#', 'https://lichess.org/training/IKZxi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iL0RN', 'Classical', 'Balumbaaa', 1841, 'bazylewski', 1894, 'd4,e6,h3,Nf6,a3,c5,Nf3,Nc6,e3,cxd4,Nxd4,d5,Nxc6,bxc6,Bd2,Be7,c4,O-O,cxd5,cxd5,b4,Ne4,Bd3,Nxd2,Qxd2,Bf6,Ra2,a5,O-O,axb4,Qxb4,Ba6,Rd1,Be7,Qc3,Bxd3,Rxd3,Qa5,Qxa5,Rxa5,a4,Rfa8,Rd4,Bc5,Rf4,e5,Rf5,Bd6,Nc3,g6,Rf6,Be7,Rb6,d4,exd4,exd4,Rb5', 'dxc3,Rxa5,Rxa5', 'https://lichess.org/training/iL0RN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('il1Ln', 'Classical', 'Fourth_planet', 1611, 'kavehek', 1640, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Qf6,Bxd5+,Be6,Bxe6+,Kxe6,Qb3+,Kd7,Qxb7,Bd6,O-O,Rhf8,c3,Bc5,d4,exd4,Nd2,dxc3,Nf3,Rab8,Qa6,cxb2,Qd3+,Bd4,Rb1,bxc1=R,Rbxc1,Rb2,a3,Ne5,Qxd4+,Kc8,Nxe5,Rb6,Qd7+,Kb8,Rxc7', 'Qxf2+,Rxf2,Rb1+,Rc1,Rxc1+,Qd1,Rxd1+,Rf1,Rfxf1#', 'https://lichess.org/training/il1Ln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Il49w', 'Rapid', 'f105', 1748, 'Krtion', 1959, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,d4,exd4,Nd5,Nxe4,Re1,Nd6,Bb3,a5,a4,b6,Qd3,Ba6,c4,dxc3,Qxc3,Nb4,Ne7+,Kh8,Bg5,f6,Bh4,Nb7,Nf5,d5,Rad1,c6,N5d4,Bxd4,Rxd4,c5,Rg4,d4,Qd2,Qd7,Be6,Qxa4,Bg3,Qc2,Qf4,Nd3,Qc7,Rg8,Bxg8,Rxg8,Rxg7,Rxg7,Re8+,Rg8,Re7,Qc1+,Ne1,Rg7,Qc8+,Rg8,Qh3,Rg7,Qc8+,Rg8,Qf5,Rg6,h4,Nxe1,Kh2,Nd6,Qd7,Nf5', 'Rxh7+,Kg8,Qf7#', 'https://lichess.org/training/Il49w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Il9RV', 'Blitz', 'bahridly', 1956, 'HowFarCanIGet', 2000, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,e6,e3,Nf6,Bd3,Bg6,Ne5,Be7,Bd2,Bxd3,Nxd3,Nbd7,cxd5,cxd5,Nf4,Rc8,O-O,a6,Qf3,b5,Rad1,h6,e4,b4,Ncxd5,exd5,e5,Ne4,Nxd5,Nxd2,Rxd2,Bg5,Rd3,O-O,Qe4,Nb6,Nf4,Bxf4,Qxf4,Nd5,Qg4,Rc2,Rg3,Qg5,Qe4,Qd2,Qxd5,Rxb2,e6,fxe6,Qxe6+,Kh8,Qe7', 'Qxf2+,Rxf2,Rb1+,Qe1,Rxe1+,Rf1,Rexf1#', 'https://lichess.org/training/Il9RV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iL9YB', 'Rapid', 'Tupy', 1910, 'Dangpaul', 1883, 'd4,d5,c4,e6,Nc3,Nf6,e3,Be7,Bd3,O-O,Nf3,c5,cxd5,cxd4,Nxd4,exd5,O-O,Nc6,a3,g6,b4,a6,Bb2,Nxd4,exd4,Bg4,f3,Bd7,Bc1,h5,Bh6,Re8,Qd2,Qb6,Qf4,Rac8,Ne2,Bd6,Qxf6', 'Bxh2+,Kxh2,Qxf6', 'https://lichess.org/training/iL9YB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IlA68', 'Classical', 'kaimatau', 1727, 'stefanpal', 1794, 'e4,c5,Nc3,Nc6,Bc4,e6,f4,Nge7,Nf3,d5,exd5,exd5,Be2,g6,d4,c4,Ne5,Nxe5,fxe5,Be6,O-O,Nc6,Bg4,Bxg4,Qxg4,Bb4,Bg5,Ne7,Qf4,O-O,Bf6,Qd7,g4,Rfe8,h3,Nc6,Nb5,Bf8,Nd6,Be7,Qh6,Bf8,Qf4,Reb8,Nf5,Qe8,Nh6+,Bxh6,Qxh6,Qf8,Qf4,Rc8,h4,Nd8,h5,Ne6,Qe3,Qe8,hxg6,fxg6,Kg2,Rc7,Rf3,Rf7,Raf1,Qd7,c3,Raf8,Rh1,Qb5,Qd2,Qa4,Rfh3,Qxa2,Kf3,Qa4,R3h2,Qd7,Qh6,a6,Ke3,a5,Kd2,b5,Kc2,b4,cxb4,axb4,b3,c3,Ra1,Nxd4+,Kd3,Nxb3,Qxg6+,Rg7,Rxh7,Rxg6,Rh8+,Kf7,Rh7+,Ke6', 'Ra6+,Qd6,Rxd6#', 'https://lichess.org/training/IlA68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IlAU1', 'Blitz', 'FM Mortn', 2399, 'piotrek212', 2343, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Be7,Nxc6,bxc6,Bd3,Nf6,Qe2,O-O,O-O,d5,b3,a5,e5,Nd7,f4,Nc5,Rf3,Nxd3,cxd3,Bc5+,Be3', 'Bxe3+,Qxe3,d4,Qf2,dxc3', 'https://lichess.org/training/IlAU1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ilb0P', 'Blitz', 'Rey_Peon', 1822, 'amos_tuck', 1733, 'b3,d5,Bb2,c5,e3,Nc6,h4,e5,h5,h6,d3,Nf6,Nd2,Bd6,Be2,d4,e4,Be6,Nc4,Qd7,Qd2,b5,Nxd6+,Qxd6,O-O-O,a5,g3,Ng4,Rf1,a4,Bxg4,Bxg4,f4,axb3,axb3,c4,dxc4,bxc4,bxc4,O-O,Rh4,Be6,f5,Bxc4,Rf2,Rac8,g4,Qf6,Rh3,Qg5,Qxg5,hxg5,h6,gxh6,Rxh6,Kg7,Rfh2,Rh8', 'f6+,Kg8,Rxh8#', 'https://lichess.org/training/Ilb0P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ilb4l', 'Rapid', 'RonjaS', 2158, 'Pilrez', 2042, 'c4,e5,Nc3,Nc6,g3,Nf6,Bg2,Bb4,Nd5,Bc5,e3,d6,Ne2,Be6,Nec3,Bxd5,cxd5,Nb4,O-O,Nd3,Qa4+,Qd7,Rd1,O-O,Qxd7,Nxd7,Bf1,Nxc1,Raxc1,f5,Na4,f4,b4,Bxb4,Rxc7,Nb6,Nb2,fxg3,hxg3,Rac8,Rxb7,Rc2,Nd3,Bxd2,Rxa7,Nxd5,Rd7,Nf6,Rxd6,Ne4,Rd7,Nxf2,Nxf2,Bxe3,Rd8,Bxf2+,Kh1,Bxg3,Bg2,Rxd8,Rxd8+,Kf7,Bd5+,Ke7,Rg8,Rh2+,Kg1,g6,a4,Kd6,Rd8+,Kc5,a5,Rd2,a6,Bf2+,Kf1,Rxd5,Rxd5+', 'Kxd5,Kxf2,Kc6,a7,Kb7', 'https://lichess.org/training/Ilb4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ILclJ', 'Blitz', 'bulle255', 1604, 'Flonckels', 1591, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,h4,d6,h5,Nf6,h6,Bf8,Bb5,Ng4,Bxc6+,bxc6,d3,Bxh6,f5,gxf5,Bxh6,fxe4,Nxe4,d5,Nxc5,Qd6,Bd2', 'Qg3+,Kf1,Qf2#', 'https://lichess.org/training/ILclJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IlcRh', 'Rapid', 'cerenity', 1892, 'Pantaki', 1885, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bb4+,Nbd2,Nc6,a3,Ba5,b4,Bb6,c4,dxc4,Bxc4,Nd5,Bg3,a5,b5,Nce7,Qc2,Nf5,Bxc7,Nxc7,d5,O-O,dxe6,Nxe6,Qxf5,Nc5,Qc2,g6,a4,Bf5,Qa2,Nd3+,Bxd3,Qxd3,Qc4,Qd6,Ne4,Bxe4,Qxe4,Rac8,O-O,Bc7,Rfd1,Qf6,Rac1,Rfd8,Qxb7,Rxd1+,Rxd1,Rd8,Rc1,Qd6,h3', 'Qd1+,Ne1,Qxc1', 'https://lichess.org/training/IlcRh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ILDPu', 'Rapid', 'jalfarov504', 1815, 'Tavas15Rus', 1737, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,c4,Bb4+,Bd2,Na6,cxd5,cxd5,Bb5+,Ke7,Nc3,Qb6,Bg5+,f6,exf6+,gxf6,Qe2,fxg5,O-O,Nf6,Rfe1,Rac8,h3,Bh5,g4,Nxg4', 'Nxd5+,Kd8,Nxb6', 'https://lichess.org/training/ILDPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ilDZB', 'Rapid', 'ujjwaldeepgupta', 2122, 'magnus2020', 1713, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,d4,Bd6,Bd3,h6,Be3,Nd7,Qd2,b6,Be4,Rb8,O-O-O,Bb7,Bxb7,Rxb7,d5,exd5,Bd4,Qg6,Rhe1+,Kd8,Qe2,f6,Bc3,Re8,Qa6,Nc5,Qb5,Ne4,Bb4,c5,Qc6,Rc7,Qa8+,Rc8,Qxd5,cxb4', 'Rxe4,Rxc2+,Kxc2,Qxe4+,Qxe4,Rxe4,Rxd6+', 'https://lichess.org/training/ilDZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ILFnr', 'Rapid', 'Kairos_Jota', 1846, 'Yerlan_071', 1845, 'e4,c5,Nc3,Nc6,Bb5,Nd4,Nf3,Nxb5,Nxb5,a6,Nc3,b5,d4,Bb7,d5,Qc7,O-O,e6,Bg5,h6,Bh4,d6,Re1,e5,Qe2,Be7,Bxe7,Nxe7,Nh4,O-O,Qg4,f5,exf5,Qd7,Re3,Nxd5,Nxd5,Bxd5,Rh3,Rf6,Qg3,Raf8,Ng6,R8f7', 'Rxh6,gxh6,Nxe5+,Rg7,Nxd7', 'https://lichess.org/training/ILFnr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ilgaj', 'Classical', 'Leyla_Mirzaliyeva', 2023, 'orion404', 2012, 'e4,Nf6,Nc3,d5,e5,Nfd7,d4,e6,Bf4,c5,Nf3,cxd4,Nxd4,Bc5,Nb3,Bb6,Qd2,Nc6,Bg5,Qc7,Nb5,Qxe5+,Be2,O-O,c3,a6,N5d4,Nc5,Nxc6,bxc6,Nxc5,Bxc5,O-O,Bd6,g3,h6', 'Bf4,Qf6,Bxd6', 'https://lichess.org/training/ilgaj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ilgc1', 'Blitz', 'Nes1978', 2196, 'FM Medalhista', 2299, 'd4,d5,c3,e6,e3,Nf6,Be2,b6,f4,Bb7,Nf3,Ne4,O-O,Nd7,Nbd2,Ndf6,Bd3,Bd6,Bxe4,dxe4,Ne5,O-O,Qc2,c5,Kh1,Qc7,Qd1,Rad8,Qe2,Qc8,b3,cxd4,cxd4,Ba6,Ndc4,b5,Nxd6,Rxd6,Qf2,Rd5,Ba3,Rfd8,Bc5,Nd7,Nxd7,R8xd7,b4,Bb7,Qe2,a6,a4,Bc6,Rfc1,Qb7,a5,f6,h3,e5,Kh2,exf4,exf4,Rf5,Qe3,Bd5', 'g4,Rxf4,Qxf4', 'https://lichess.org/training/Ilgc1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ILGTg', 'Rapid', 'Schaakgek56', 2246, 'chessunable', 2388, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Be7,Bf4,O-O,e3,Nbd7,cxd5,Nxd5,Nxd5,exd5,Bd3,c6,O-O,Nf6,h3,Ne8,Qc2,g6,Bh6,Ng7,Rab1,a5,a3,Re8,b4,axb4,axb4,Bf5,b5,Bxd3,Qxd3,Nf5,Bf4,Bd6,Bxd6,Nxd6,bxc6,bxc6,Ne5,Rc8,Rfd1,f6,Nf3,Nc4,Nd2,Nxd2,Rxd2,Rb8,Rc1,Re6,Rdc2,Rb6,Qa3,Qb8,Qa4,Qb7,g3', 'Ra6,Qxa6,Qxa6', 'https://lichess.org/training/ILGTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IlGzQ', 'Rapid', 'Tzehan', 1796, 'supernebulon', 1789, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,d4,Bd6,Re1,Qh4,g3,Qf6,Nd2,Nf4,Ne4,Nh3+,Kg2,Qg6,Nxd6,Qxd6,Qf3,Be6,Bxe6,fxe6,Qe2', 'Rxf2+,Qxf2,Nxf2', 'https://lichess.org/training/IlGzQ');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 18;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet19 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLhFp', 'Blitz', 'MHD_Alfisyahri', 2114, 'mld711', 2187, 'e4,Nf6,d3,e5,Nc3,Bc5,f4,exf4,Bxf4,d6,Nf3,a6,Be2,Nc6,Qd2,Bg4,h3,Bxf3,Bxf3,O-O,Bg5,h6,Bh4,g5,Bxg5,hxg5,Qxg5+,Kh8,Bg4,Nh7,Qd2,Qh4+,Kd1,Bb4,Bf5,Ne5,a3,Bxc3,bxc3,c5,Kc1,Qg5,Bxh7,Qxd2+,Kxd2,Kxh7,Raf1,Kg7,g4,Rae8,h4,Rh8,h5,f6,Rhg1,Nf7,Rf5,Ng5,Rd5,Re6,Rb1,b5,c4,Rb8,cxb5,Rxb5,Rxb5,axb5,Ke3,Kf7,Rf5,Re5,Rf1,d5,Rb1,d4+,Kf4,Ne6+,Kg3,Nc7,Kf4,Re8,g5,Ne6+,Kf5,Nxg5,Rxb5,Re5+,Kf4,Ne6+,Kg4,Rg5+,Kh4,Re5,Rb7+,Kg8,a4,c4,h6,cxd3,cxd3,Nc5,a5,Nxd3,a6,Ra5,a7,Ne5,Kh5,d3,h7+,Kh8,Kh6,Ng4+,Kg6,Rg5+,Kf7,Rg7+', 'Ke6,Rxb7,a8=Q+,Kxh7,Qxb7+', 'https://lichess.org/training/iLhFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ILhUq', 'Blitz', 'FM tirumpu', 2123, 'momoxray', 2041, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,h3,Nc6,Bb5,Bd7,e5,dxe5,dxe5,Ng8,Bf4,e6,a4,Nge7,Qd2,a6,Bc4,O-O,Bh6,Nf5,Bxg7,Nxg7,h4,Qe7,h5,Rad8,hxg6,fxg6,Qh6,Nf5,Qh3,Na5,Ba2,Bc6,Ng5,h5,Nxe6,Kh8,g4,Bxh1,Nxf8,Rxf8,gxf5,Qxe5+,Kf1,Rxf5,Qxh1,Kg7,Qg2,Rg5,Re1', 'Qxe1+,Kxe1,Rxg2', 'https://lichess.org/training/ILhUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ilhw3', 'Blitz', 'BlackSwan13', 1512, 'Lill_saint', 1532, 'e4,e6,d4,g6,Nc3,Bg7,f4,Nc6,Nf3,Nge7,Be2,d5,e5,Nf5,Bb5,Bd7,Qd3,a6,Bxc6,Bxc6,Bd2,Nh4,Qe2,b5,g3,Nf5,Qf2,b4,Ne2,a5,g4,Ne7,Ng3,Ba4,b3,Bb5,f5,f6,fxe6,f5,Ng5,h6,Nf7,Qc8,Nxh8,Bxh8,gxf5,gxf5,Nxf5,Qxe6,Nxh6,Kd7,O-O-O,a4,Kb1,axb3,cxb3,Bd3+,Ka1', 'Rxa2+,Kxa2,Qa6+,Kb2,Qa3#', 'https://lichess.org/training/Ilhw3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLkey', 'Classical', 'pionnenvreter', 1965, 'slick45', 1901, 'd4,d5,Nf3,Nf6,c4,c6,cxd5,cxd5,Nc3,e6,Bg5,Be7,Bxf6,Bxf6,e3,Nc6,Be2,O-O,O-O,Re8,a3,a6,Rc1,h6,b4,Ne7,e4,dxe4,Nxe4,Nd5,Nxf6+,Qxf6,g3,b5,Qd2,Bb7,Ne5,Rac8,Bf3,Red8,Rxc8,Bxc8,Qc2,Ne7,Rd1,Ng6,Nxg6,fxg6,Be4,Rf8,Bxg6,Bb7,Bh7+,Kh8,Be4,Bxe4,Qxe4,Qxf2+,Kh1,Qb2,Qxe6,Rf2,Qe8+,Kh7,Qe4+,Kh8,d5', 'Rxh2+,Kg1,Qf2#', 'https://lichess.org/training/iLkey');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IlKgb', 'Rapid', 'AloizioM', 1737, 'Sobachiu_discomfort', 1726, 'e4,e6,Nf3,d5,exd5,exd5,d4,c5,c4,cxd4,Nxd4,Nc6,Nc3,dxc4,Nxc6,Qxd1+,Kxd1,bxc6,Bxc4,Be7,Re1,Nf6,Bg5,Be6,Bxe6,fxe6,Rxe6,O-O-O+,Kc2,Kd7,Rae1,Rhe8,R6e3,h6,Bxf6,Bxf6,Ne4,Re6,Nxf6+,Rxf6,Rd1+,Kc8,Rxd8+,Kxd8,f3,g5,Kc3,Kc7,g4,Kb6,Kb4,a5+,Kc4,Rf4+,Kc3,Rf6,a3,Kb5,b3,c5,a4+,Kc6,Kc4,Rf4+,Kd3,Kd5,Ke2,c4,bxc4+,Rxc4,Re4', 'Rxe4+,fxe4+,Kxe4', 'https://lichess.org/training/IlKgb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ilkIH', 'Classical', 'unev1975', 1632, 'defendor', 1715, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,Na4,Be7,Nc3,Bc5,Be2,a5,d3,d6,Bg5,Ne7,Nd5,Nfxd5,exd5,f6,Be3,Bxe3,fxe3,Nxd5,e4,Ne3,Qd2,Nxf1,Rxf1,d5,exd5,Qxd5,b3,c6,d4,Qd6,c4,c5,d5,Bg4,Qe3,Bxf3,Bxf3,a4,Bg4,axb3,axb3,Ra3,Bf5,Qb6,Qh3,g6,Bc2,Kg7,Qd7+,Rf7,Qe8,Qa7,d6,Qa8', 'd7,Rf8,Qe7+', 'https://lichess.org/training/ilkIH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLKmw', 'Blitz', 'rk1966', 1746, 'KeyboardSound1', 1751, 'e4,c5,f3,d6,d3,g6,c3,Bg7,Be3,Nf6,Nd2,O-O,Ne2,b5,g3,Nc6,f4,e6,Nf3,a5,h3,Ba6,g4,c4,Ng3,cxd3,Bxd3,b4,Bxa6,Rxa6,Qe2,Ra8,c4,e5,O-O-O,Qc7,f5,a4,g5,Nh5,Nxh5,gxh5,f6,Bh8,Nh4,Na5,Nf5,h6,Nxh6+,Kh7,Kb1,Qxc4,Qxh5,Qxe4+,Ka1', 'Nb3+,axb3,axb3+,Ba7,Rxa7#', 'https://lichess.org/training/iLKmw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLKTl', 'Blitz', 'CheckMate1802', 2178, 'FM ArnoldEssing', 2372, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Nxe5,Nxe5,d4,Bb4,dxe5,Nxe4,Qf3,d5,exd6,Nxd6,Bd3,O-O,O-O,Qh4,Nd5,Ba5,Bf4,Be6,Bg3,Qg5,Nf4,Bg4,Qe3,Rfe8,Qd4,Bb6,Qc3,Ne4,Bxe4,Rxe4,Nd3,h5,h4,Qd5,Rfe1,Rae8,Nf4,Qd4,Qxd4', 'Rxe1+,Rxe1,Rxe1+,Kh2,Bxd4', 'https://lichess.org/training/iLKTl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLkVX', 'Classical', 'BigPurpleSuit', 1708, 'GeekPlayer', 1714, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,Nxe5,Qe7,Nf3,Qxe4+,Qe2,Qxe2+,Kxe2,Nf6,Re1,d5,Kf1+,Be7,d4,Ne4,Nbd2,Bf5,c3,O-O,Nxe4,Bxe4,Ne5,Bd6,Nxc6,Bxh2,g3,Rfe8,Ne5,f6,Ng4', 'Bd3+,Kg2,Rxe1', 'https://lichess.org/training/iLkVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ILMbZ', 'Blitz', 'hammadi50', 1946, 'Sola_fide', 1934, 'e4,e5,Nf3,Nc6,Bb5,f5,Bxc6,dxc6,Nxe5,Qd4,Qh5+,g6,Nxg6,hxg6,Qxg6+,Kd8,O-O,Bd6,h3,Ne7,Qg5,fxe4,Nc3,Rg8,Qh4,Qe5,f4,exf3,Rxf3,Qh2+,Kf1,Qh1+,Kf2,Qxg2+,Ke3,Be6,d4,Qg5+,Qxg5,Rxg5,Bd2,Kd7,Ne4,Rg2,Nf6+,Kc8,Ne4,a5', 'Rf8+,Kd7,Nf6#', 'https://lichess.org/training/ILMbZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ilMpL', 'Rapid', 'notarealbanana', 1753, 'iyihamdi', 1686, 'e4,e5,Nf3,d6,d4,Nc6,dxe5,dxe5,Qxd8+,Kxd8,Bb5,Nd4,Nxe5,Nxc2+,Ke2,Nxa1', 'Nxf7+,Ke7,Nxh8', 'https://lichess.org/training/ilMpL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLn11', 'Rapid', 'Charlesk', 1933, 'Vangill', 2180, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,O-O,Bd3,dxc4,Bxc4,a6,a4,b6,Qf3,c6,Bd3,Qc7,Nge2,Nbd7,e4,e5,d5,Bb7,dxc6,Bxc6,Nd5,Bxd5,exd5,Bb4+,Kf1,Rfe8,Bf5,Qd6,Rd1,Bc5,Ng3,e4,Nxe4,Nxe4,Bxe4,g6,Bf4,Qf6,Bc1,Qxf3,Bxf3,Ne5,Be4,Rad8,f3,f5,Bc2,Rd7,Bf4,Bd6,g3,Nc4,Bc1,Bc5,Kg2', 'Re2+,Kh3,Rxc2', 'https://lichess.org/training/iLn11');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ilnQC', 'Classical', 'bradleywise', 1689, 'whitehorse92', 1722, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Ng3,Bd6,Nf3,Bxg3,hxg3,Nc6,Be3,Qd7,Qd3,Nb4,Qc3,Nbd5,Qd2,Ne4,Qd3,Nxe3,Qxe3,f5,Ne5,Qd6,O-O-O,Bd7,Be2,O-O-O,Rh3,Be8,f3,Nf6,Qb3,Nd5,Bb5,Bg6,Bc4,f4,Bd3,Rhf8,Bxg6,hxg6,Nxg6,Rf6,Ne5,fxg3,Rxg3,g6,Rxg6,Rxg6,Nxg6,Rg8,Qd3,Qg3,Ne5,Qxg2,Qf1,Qg5+,Kb1', 'Ne3,Qh3,Nxd1,Qxe6+,Kb8', 'https://lichess.org/training/ilnQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ILNXb', 'Blitz', 'Ac1000', 2530, 'IM Shukh_Nikolay', 2524, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Bg5,h6,Bh4,c5,e3,Nc6,Ne2,d6,a3,Ba5,Rd1,Qe7,f3,cxd4,exd4,e5,dxe5,dxe5,b4,Nd4,Qb2,Bb6,Nd5,Qe6,Nxf6+,gxf6,c5,Bc7,Nxd4,exd4+,Be2,Re8,Kf2,Be5,Bd3,Bf4,Rhe1,Be3+,Kf1,Bd7,Bg3,Bc6,Bf4,h5,Re2,Kh8,Rde1,Bxf3,Rxe3,Bxg2+,Kxg2,dxe3,Rxe3', 'Qg4+,Rg3,Qxf4', 'https://lichess.org/training/ILNXb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ilOu1', 'Rapid', 'Malcolmthebrain', 1803, 'Viktorovich81', 1806, 'e4,Nc6,Bc4,e6,d3,d5,exd5,exd5,Bb3,Nf6,Bg5,Be6,Nf3,h6,Bh4,Bd6,O-O,g5,Bg3,Bg4,Nbd2,Ne7,c4,d4,Re1,c5,Qe2,O-O', 'Bxd6,Qxd6,Qxe7,Qxe7,Rxe7', 'https://lichess.org/training/ilOu1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLoUL', 'Bullet', 'arisluistel', 1972, 'scusidoveilbar', 1993, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bd3,O-O,O-O,Bg4,h3,Bh5,g4,Bg6,Nh4,Bxd3,Qxd3,g6,f4,f5,g5,c5,Be3,cxd4,Bxd4,Nc6,Bf6,Qb6+,Kg2,Nb4,Qc3,Qc6+,Qxc6,Nxc6,Nf3,Bxf4,h4,Rfe8,Rf2,Be5,h5,Bxf6,gxf6,Re6,hxg6,fxg6,f7+,Kg7,Ng5,Rf6,Rd1,h6,f8=Q+,Kxf8,Nh7+,Kg7,Nxf6,Kxf6,Rd7,Rb8,c3,g5,Re2,Kg6,Re6+,Kh5,Rh7,Kg4,Rexh6,Rd8,Rxb7,Rd2+,Kf1,Kf3,Ke1,Re2+,Kd1,Rg2,Rh3+,Kg4,Rd3,Ne5,Rd4+,f4,Re7,Nf3,Rd3', 'Rg1+,Kc2,Ne1+,Rxe1,Rxe1', 'https://lichess.org/training/iLoUL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLP2j', 'Bullet', 'ElaKolla', 1580, 'DonBurBon', 1774, 'e4,d5,Nf3,dxe4,Ng5,Nf6,d3,exd3,Bxd3,h6,Nxf7,Kxf7,Bg6+,Kxg6,Qxd8,Nc6,Qxc7,e5,O-O,Bc5,Nc3,Rf8,Be3,Rf7,Qxf7+,Kxf7,Bxc5,b6,Be3,Ba6,Rfd1,g5,Rd6,Bb7,h4,Ke7,Rad1,gxh4,Bxh6,Nd4,R6xd4,exd4,Rxd4,Rg8,Rxh4,Bxg2,Kh2,Bc6,f4,Ng4+,Kh3', 'Nf2+,Kh2,Rg2#', 'https://lichess.org/training/iLP2j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ILPDS', 'Rapid', 'oranggila88', 1759, 'kraf', 1768, 'e4,e5,f4,d6,Nf3,Bg4,Bc4,Bxf3,Qxf3,Nf6,O-O,Be7,Nc3,Nc6,Nd5,Nd4,Qd3,Nxd5,Bxd5,c6,Bb3,b6,fxe5,dxe5,Bxf7+,Kd7,c3,Kc7,cxd4,exd4,b3,Rf8,Bb2,c5,Qg3+,Bd6,e5,Be7,e6+,Bd6,Qxg7,Qe7,d3,h5,a4,Rad8,a5,Kb8,axb6,axb6,Ra6,Bc7,Rfa1,Kb7,Ra7+,Kc6,b4,Qh4,h3,Qf4,bxc5,Qh2+,Kf1,Qf4+,Ke1,Qe3+,Kd1', 'Qxd3+,Ke1,Bg3+,Qxg3,Qxg3+', 'https://lichess.org/training/ILPDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ilQpv', 'Classical', 'Thandv', 1642, 'SlapDaniels', 1625, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb6,Bg5,h6,Bh4,d6,O-O,O-O,e5,dxe5,dxe5,Qxd1,Rxd1,Ng4,Re1,Re8,Bb5,Ngxe5,Bxc6', 'Nxf3+,gxf3,Rxe1+', 'https://lichess.org/training/ilQpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ilr1E', 'Rapid', 'Djengis2410', 2298, 'Meysam_abdoolahy', 1914, 'd4,d5,c4,e6,Nf3,Nf6,g3,c6,Bg2,Nbd7,O-O,Bd6,Nc3,O-O,Nd2,h6,e4,Bc7,e5,Nh7,cxd5,exd5,f4,Re8,Nf3,f6,Qc2,Bb6,Kh1,fxe5,dxe5,Ndf8,f5,d4,Na4,d3,Qb3+,Kh8,e6,Qf6,g4,h5,Nxb6,axb6,h3,hxg4,hxg4,b5,Bf4,Nxe6,Rae1,Bd7,Bh2,Neg5,Qxd3,Nxf3,Bxf3,Qh4,Rxe8+,Bxe8,a3,Bf7,Qd4,Rd8,Qf4,Ng5,Bg2,Nh3,Bxh3,Qxh3,Kg1,Bd5,Qg3,Qh6,g5,Qh5,Re1,Rf8,Rf1,Bc4,Rf4,Qd1+,Kg2,Qd5+,Qf3,Qd2+,Qf2,Qd5+,Kh3,Qd8,g6,Qg5,Bg3,Bd5,Bh4,Qh5,Kg3,Kg8,b4,Qd1,Bg5,Qd3+,Kh2,Qxa3,Rh4,Qc3', 'Rh8+,Kxh8,Qh4+,Kg8,Qh7#', 'https://lichess.org/training/Ilr1E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLSHW', 'Rapid', 'malik36', 1832, 'blunderbot_9000', 1827, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Nf3,e5,O-O,exd4,Nxd4,Re8,f3,Bd7,Be3,Nc6,Rc1,a5,a3,Nxd4,Bxd4,c5,Bf2,Nh5,Qxd6,Bf8,Qd1,Nf4,Be3,Nxe2+,Qxe2,Bc6,Nd5,Bxd5,cxd5,Qc7,b4,axb4,axb4,b6,bxc5,bxc5,g4,Ra3,Ra1,Rb3,Rfb1,Reb8,Rxb3,Rxb3,Qd2,Qe5,Ra8', 'Rb1+,Kg2,Rb2,Rxf8+,Kxf8', 'https://lichess.org/training/iLSHW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ilU2r', 'Rapid', 'nickvalas', 1865, 'shikantaza', 1797, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c3,a6,Ba4,b5,Bb3,h6,O-O,Ng6,d4,d6,h3,Be7,Re1,O-O,Bd5,Bb7,Nbd2,Rb8,Nf1,Qd7,Ng3,Nd8,Bxb7,Rxb7,dxe5,Nc6,Nf5,Ncxe5,Nxe7+,Qxe7,Nd4,Nh8,Nf5,Qe6,f4,Neg6,Qg4,Qf6,Be3,c5,b4,Qxc3,bxc5,dxc5,Rac1,Qa3,Bxc5,Qxa2,h4,Re8,h5,Qe6,Bd4,Rd7,Bxg7,Qb6+,Kh1,Kh7,Bb2,Qf2,hxg6+,fxg6,Ng7,Red8,Re2', 'Rd1+,Rxd1,Rxd1+,Kh2,Qg1+,Kg3,Rd3+,Qf3,Rxf3+', 'https://lichess.org/training/ilU2r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLuqk', 'Rapid', 'Optmus', 1688, 'fernando55006', 1679, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,d4,d5,exd5,Nxd4,Nxd4,exd4,Qxd4,c5,Qd3,Qd6,Bg5,Ng4,g3,Bxg5,f4,Bh6,Nd2,Re8,Ne4,Qe7,Rfe1,Bf5,d6,Bxe4,dxe7,Bxd3,Bxd3,a6,c3,b5,b4,c4,Be4,Ra7,Bf5,Nf6,Rad1,Rexe7', 'Rd8+,Ne8,Rxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/iLuqk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IlvxF', 'Rapid', 'Nezraal', 1851, 'ax_stalker', 1899, 'f4,e5,fxe5,Nc6,e4', 'Qh4+,g3,Qxe4+', 'https://lichess.org/training/IlvxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IlVZR', 'Rapid', 'nokia1556', 1782, 'Alexandroid', 1794, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Bb5,Bd7,Re1+,Be7,Bxc6,Bxc6,Ne5,Nf6,Nxc6,bxc6,d4,c4,c3,O-O,Bg5,Re8,Bxf6,Bxf6,Rxe8+,Qxe8,Nd2,Qe6,Nf3,Re8,Qd2,Qe2', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/IlVZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLXbV', 'Rapid', 'Irwan_KabCianjur', 2086, 'HENI_MULYANI', 2193, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,c3,Bg4,O-O,Nf6,h3,Bxf3,Qxf3,O-O,d3,h6,Be3,Bb6,Bxb6,axb6,a3,c5,Nd2,b5,Qe3,b6,Nf3,Qd6,Rad1,Rfe8,Rfe1,c6,Nh4,Qe6,Nf5,Nh7,Qg3,g5,d4,cxd4,cxd4,exd4,Rxd4,Rad8,Red1,Rxd4,Rxd4,c5,Rd6,Qxe4,Nxh6+,Kg7,Rxb6,Nf6,Ng4,Nxg4,Qxg4,Qe1+,Kh2,Qe5+,Qg3,c4,h4,f6,hxg5', 'Rh8+,Kg1,Qe1#', 'https://lichess.org/training/iLXbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ILYRl', 'Rapid', 'ostdorfer', 1809, 'seva1922', 1798, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,e6,d4,Nf6,Bg5,Be7,Bc4,c6,O-O,b5,Bb3,a5,a3,a4,Ba2,Bb7,Re1,Nbd7,Ne5,O-O,Nxd7,Qxd7,Ne2,Nd5,Bxe7,Nxe7,Ng3,Ng6,Qg4,Qe7,f4,Rad8,f5,Nh8,fxe6,Qf6,exf7+,Nxf7,c3,Kh8,Rf1,Nh6,Rxf6,Nxg4,Rxf8+,Rxf8,Rf1,Rxf1+,Nxf1,Nf6,Ne3,Ne4,Kf1,g6,Ke2,Kg7,Bb1,Nd6,g3,h5,Kf2,Kf6,Bd3,g5,Ke2,h4,gxh4,gxh4,c4,bxc4,Nxc4,Nxc4,Bxc4,Kg5,h3,Kf4,Be6,Ke4,Bd7,Kxd4,Kf3,Kc4,Kg4', 'Kb3,Kxh4,Kxb2,Kg5,Kxa3', 'https://lichess.org/training/ILYRl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iLZ71', 'Classical', 'evgo75', 1655, 'Qwerty-Asdf', 1675, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,d4,exd4,Nxd4,d5,Nxc6,bxc6,Bxc6+,Bd7,Bxa8,Bc5,Bxd5,Ng4,O-O,Qf6,Be3,Bxe3,fxe3,Qh4,Bxf7+,Kd8,h3,Nxe3,Qf3,Nxf1,Rxf1,Rf8,e5,h5,Qa8+,Ke7,Qxf8+,Kxf8,Be6+,Ke7,Bxd7,Kxd7,Rf7+,Ke6,Rxc7', 'Qe1+,Kh2,Qxe5+', 'https://lichess.org/training/iLZ71');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('im0Ir', 'Blitz', 'WIM Boudicca64', 2094, 'turmlp', 2067, 'e4,g6,d4,Bg7,Nc3,d6,Be2,Nd7,g4,e5,Be3,h6,Qd2,a6,f4,exf4,Bxf4,Qe7,O-O-O,b5,Nd5,Qd8,Nf3,Bb7,Rhe1,Ne7,Qc3,Rc8,Nxe7,Qxe7,e5,d5,e6,fxe6,Ne5,Nxe5,Bxe5,O-O,Bd3,c5,dxc5,Rxc5,Qd4,Bxe5,Rxe5,Rf6,Rde1,Qf8,Rxe6,Rxe6,Rxe6,Rc6,Rxg6+,Rxg6,Bxg6,Qf1+,Kd2,Qg2+,Kc3,Qf3+,Kb4,Qf8+,Kb3,a5,Qe5', 'Qb4#', 'https://lichess.org/training/im0Ir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IM1Kn', 'Rapid', 'mistakeman', 1695, 'blue_fenix', 1894, 'Nf3,Nc6,Nc3,d5,d4,Nf6,h3,Bf5,a3,e6,Bf4,Bd6,Ne5,Nxd4,Qxd4,Bxc2,Bg5,O-O,e3,c5,Qd2,Bg6,Nxg6,hxg6,Be2,Be7,Bf3,b6,O-O,a6,Rad1,Qc7,Bf4,Qc6,Be5,Rfd8,Qc1,Nd7,Bg3,f6,e4,d4,e5,Qc8,Bxa8,Qxa8,exf6,gxf6,Ne2,Kg7,Nf4,Qc6,Rfe1,e5,b4,c4,Rd3,Qd6,Qxc4,b5,Qc2,exf4,Bxf4,Qxf4,Rxe7+,Kf8,Rf3,Qxf3,gxf3,Kxe7,Qxg6,Ne5,Qh7+,Ke6,Kg2', 'd3,f4,d2', 'https://lichess.org/training/IM1Kn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Im1sx', 'Rapid', 'happy_suicide', 1911, 'valterfish', 1801, 'g4,d6,Bg2,Nf6,g5,Nfd7,d4,e5,c3,Be7,h4,h6,Nf3,hxg5,Bxg5,Bxg5,Nxg5,f6', 'Ne6,Qe7,Nxc7+', 'https://lichess.org/training/Im1sx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iM2nk', 'Blitz', 'M1stvevo', 1646, 'zeecee', 1670, 'Nf3,Nf6,d4,d5,c4,e6,g3,c5,cxd5,Nxd5,e4,Nf6,Nc3,cxd4,Nxd4,Bb4,Bg2,O-O,Be3,b6,O-O,Bb7,a3,Bxc3,bxc3,Nc6,e5,Nd5,c4,Nxe3,fxe3,Rc8,Qa4,Nxd4,exd4,Bxg2,Kxg2,Qxd4,Rad1,Qxc4,Qxa7,Qe4+,Kg1,Rc2', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/iM2nk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IM3Rn', 'Rapid', 'mikeraya', 2141, 'cibis09', 1979, 'e4,e6,Nf3,d5,exd5,Qxd5,d4,Nf6,c4,Qd8,Nc3,Be7,Bd3,h6,h3,O-O,O-O,Nbd7,Be3,c5,Qe2,a6,d5,exd5,Nxd5,Nxd5,cxd5,Bd6,Rfd1,Re8,Qc2,b6,a4,Bb7,Bc4,Nf6,Rac1,Qd7,Nh4,Bc8,b3,Re4,Nf3,Nh5,Bd3,Rxe3,fxe3,Qe7,Re1,Qf6,Qc3,Qe7,e4,Bg3,Rf1,Nf4,Bc4,Qxe4,Rce1,Qg6,Re8+,Kh7,Ne5,Nxh3+,gxh3', 'Bxe5+,Kh1,Bxc3', 'https://lichess.org/training/IM3Rn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IM46L', 'Rapid', 'capa1975', 1853, 'doncamillo34', 1870, 'e4,d6,c4,e6,Nc3,h6,Nf3,Ne7,Be2,g6,d3,Bg7,Be3,O-O,Rb1,e5,O-O,g5,Nxg5,hxg5,Bxg5,Qe8,f4,exf4,Rxf4,Nbc6,Bg4,Ng6,Bxc8,Rxc8,Rf5,Nd4,Qh5,Nxf5,exf5,f6', 'fxg6,Qxg6,Qxg6', 'https://lichess.org/training/IM46L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IM6nq', 'Blitz', 'GM Elmarmalade', 2613, 'Arkadygrozny', 2450, 'd4,e6,e4,d5,Nc3,Nf6,Bg5,Bb4,e5,h6,Bd2,Bxc3,bxc3,Ne4,Qg4,Kf8,Bd3,Nxd2,Kxd2,c5,h4,Qa5,dxc5,Qxc5,Ne2,Nc6,Qf4,Bd7,Rh3,Ke7,Rb1,Na5,Rf3,Rhf8,Rb4,Rac8,h5,b5,Qh4+,Ke8,Rg4,Nc6,Re3,Rg8,Qg3,b4,cxb4,Nxb4,Rxg7,Rxg7,Qxg7,Nxd3,Qh8+,Ke7,Qf6+,Ke8,Rg3,Qxc2+,Ke3,Bb5', 'Rg8+,Kd7,Qxf7+', 'https://lichess.org/training/IM6nq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('im73Q', 'Rapid', 'Phanzel34', 2194, 'Emperuzzi', 2139, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Ng4,d4,cxd4,cxd4,Qb6,h3,Nh6,Bxh6,gxh6,Be2,Qxb2,Qb3,Qxa1,Bc4,e6,Qd3,Qb2,O-O,Rg8,Re1,Rg7,Nc3,Qb6,d5,Nb4,Qe4,exd5,Bxd5,Qg6,Nh4,Qg5,Nf5,Rg6', 'Nd6+,Bxd6,exd6+,Re6,Bxe6', 'https://lichess.org/training/im73Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iM8ue', 'Rapid', 'frongum', 1657, 'Sandman_2229', 1729, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a3,Nc6,Be3,e5,Nxc6,bxc6,f4,Ng4,Qf3,exf4,Bxf4,Qb6,O-O-O,Nf2,Bxd6,Nxd1,Bc4,f6,Rxd1,Bxd6,Rxd6,Qg1+,Rd1,Qc5,Bb3,Qg5+,Kb1,Bg4,Qg3,Bxd1,Qd6,Rd8', 'Qe6+,Kf8,Qf7#', 'https://lichess.org/training/iM8ue');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IMB0B', 'Rapid', 'Pantaki', 1796, 'herman1951', 1829, 'e4,e6,d4,d5,Nc3,Ne7,Bg5,h6,Bh4,c6,Nf3,Qc7,Bg3,Qb6,b3,dxe4,Nxe4,Ng6,c3,Be7,Ne5,Nxe5,Bxe5,f6,Bg3,f5,Nd6+,Bxd6,Bxd6,Kf7,Qh5+,g6,Qh4,Qd8,Qf4,Nd7,g4,Qg5,gxf5,Qxf5,Qg3,Qe4+,Qe3,Qxh1,Qf4+,Ke8,O-O-O,Qd5,Be5,Rf8,Qxh6,Nxe5,dxe5,Qxe5,Qxg6+,Ke7,Qh7+,Rf7,Qh4+,Qf6,Qb4+,Ke8,Bc4,Qg5+,Kb1,Rf4,Re1,Qf5+,Ka1,Kf7,Qd6,Re4,Rxe4,Qxe4,Qc7+,Kf6,Kb2,Qf5,Qd8+,Kg6,Qg8+,Kf6,Qf8+,Ke5,Qh8+,Kf4,Qh4+,Ke5', 'Qd4#', 'https://lichess.org/training/IMB0B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('imCfw', 'Blitz', 'Springerf3', 2335, 'FM BlackCrowes', 2363, 'Nf3,Nf6,c4,e6,b3,d5,Bb2,Be7,g3,b6,Bg2,Bb7,O-O,O-O,e3,dxc4,bxc4,c5,Nc3,Nbd7,Qe2,a6,Nh4,Bxg2,Nxg2,Qc7,f4,Rad8,g4,Qc6,d3,b5,g5,Ne8,Rf3,f6,gxf6,Nexf6,e4,bxc4,dxc4,Rb8,e5,Nh5,Ne4', 'Rxb2,Qxb2,Qxe4', 'https://lichess.org/training/imCfw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IMcJp', 'Rapid', 'mario108', 1638, 'CLARASR', 1755, 'e4,e5,Bc4,h6,Qh5,g6,Qxe5+,Qe7,Qxh8,Nf6,Qg8,b6,Qh8,Nxe4,Qg8', 'Nf6+,Ne2,Nxg8', 'https://lichess.org/training/IMcJp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('imCub', 'Bullet', 'superrohit', 1631, 'Tjay24', 1673, 'd4,e6,c4,Nf6,Nc3,Bb4,Bg5,O-O,e4,Be7,Bd3,h6,Bh4,d5,Nf3,dxe4,Nxe4,Nxe4,Bxe7,Qxe7,Qc2,Ng5,Nxg5,Qxg5,O-O,Nc6,Qc3,e5,d5,Nd4,Be4,Bh3,Qxh3,f5,Bd3,e4,Bb1,Rae8,Kh1,f4,f3,e3,Bd3,e2,Rfe1,Re3,Bxe2,Rxe2', 'Rxe2,Nxe2,Qe6+,Kh8,Qxe2', 'https://lichess.org/training/imCub');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMcvg', 'Rapid', 'Batra1970-47', 1855, 'rezajafari', 1846, 'd4,d5,Nf3,e6,e3,c5,Nc3,Nc6,Be2,Nf6,O-O,Bd7,a3,h6,Bd2,cxd4,exd4,Bd6,Rb1,a6,b4,b5,Re1,O-O,Be3,Re8,Qd2,Ng4,Bd3,Qc7,h3,Nxe3,Qxe3,Bf4,Qe2,Nxd4,Nxd4,Qxc3,Nb3,Rac8,Qf3,Qf6,Nc5,Bc6,Rbd1,d4,Be4,Bxe4,Rxe4,e5,Rde1,a5,Qg4,Bd2,R1e2,Bc3,Nd7,Qd6,Nxe5,d3,Nxd3,Rxe4', 'Qxc8+,Qf8,Qxf8+,Kxf8,Rxe4', 'https://lichess.org/training/iMcvg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IMD6k', 'Rapid', 'Schachmundo', 2214, 'Glo0m', 2226, 'e4,c6,Nc3,d5,Nf3,Bg4,h3,Bxf3,Qxf3,e6,d3,Nf6,Bd2,Qb6,O-O-O,Nbd7,g4,d4,Ne2,O-O-O,g5,Ne5,Qg3,Nfd7,f4,Ng6,h4,Bd6,h5,Ne7,Qf2,c5,Kb1,Kb8,c3,e5,Qe1,f6,cxd4,cxd4,Ba5,Qb5,Bxd8,Rxd8,gxf6,gxf6,f5,Nc5,Nc1,Na4,Nb3,Nc6,Rg1,a5,Rg7,Nb4,Rxh7,Rc8,Rc1,Rxc1+', 'Qxc1,Nc3+,bxc3', 'https://lichess.org/training/IMD6k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IMep8', 'Rapid', 'DrZUNIGA', 1648, 'cocochico7', 1644, 'Nf3,g6,b3,Bg7,Nc3,e5,e4,Ne7,Bb2,b6,g3,Bb7,Bg2,d5,exd5,O-O,Rb1,e4,Nxe4,Bxb2,Rxb2,f5,Neg5,Qxd5,O-O,Nbc6,Re1,f4,Ne6,fxg3,Nxf8,gxf2+,Kxf2,Rxf8,Kg1,Nf5,Ng5', 'Qd4+,Kh1,Qxb2', 'https://lichess.org/training/IMep8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Imf8B', 'Rapid', 'ramberg', 1671, 'Tran_Soptor', 1738, 'e4,d6,Nf3,Nf6,Bc4,Nxe4,d3,Nf6,Bg5,e6,Nbd2,g6,O-O,Bg7,Re1,O-O,Bb3,Nc6,c3,b6,Ne4,Bb7,d4,h6,Bh4,g5,Bg3,Nxe4,Rxe4,Na5,Bc2,Bxe4,Bxe4,Rb8,Bc2,Nc6,Qd3,f5,Re1,Qf6,h4,g4,Nh2,h5,f3,Qh6,fxg4,hxg4,d5,Ne5,Bxe5,dxe5,dxe6,Qxe6', 'Bb3,Qxb3,axb3', 'https://lichess.org/training/Imf8B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IMfvu', 'Bullet', 'orion20', 1914, 'fredymam', 1921, 'e4,c6,d4,d5,e5,e6,Bd3,Qb6,Nf3,Nd7,O-O,c5,c3,Ne7,Re1,Ng6,Nbd2,cxd4,cxd4,Be7,Nf1,O-O,Ng3,Re8,Nh5,Ndf8,a3,Bd7,b4,Rac8,Bg5,a5,bxa5,Qxa5,Qb1,Bc6,h4,Bxg5,Nxg5,Qc3,Re3,Qxd4,Rf3,Qxh4,Nxg7,Kxg7,Rxf7+,Kg8,f4,Nxf4,Bxh7+,Nxh7,Nxh7,Ne2+,Kf1,Bb5', 'Qg6+,Kh8,Qg7#', 'https://lichess.org/training/IMfvu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMGt0', 'Classical', 'Vadiman', 1622, 'Swedeso1', 1682, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Nc6,Bf4,Qb6,Nxc6,bxc6,b3,Nf6,Be2,h5,f3,Bb4,Qd3,Qc5,Bd2,Bb7,Na4,Bxd2+,Qxd2,Qe5,Rd1,Rb8,Nb6,d5,exd5,cxd5,c4,dxc4,Nd7,Nxd7,Qxd7+,Kf8,bxc4,Qc3+,Qd2,Qf6', 'Qd6+,Kg8,Qxb8+', 'https://lichess.org/training/iMGt0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('imgxS', 'Classical', 'Jhersonegnal', 1704, 'ArturPasheev', 1732, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,b3,cxd4,cxd4,Bb4+,Bd2,Qa5,a3,Bxd2+,Nbxd2,Nge7,b4,Qb6,Nb3,Nf5,b5,Ncxd4,Nbxd4,Qa5+,Qd2,Qxd2+,Kxd2,Nxd4,Nxd4,O-O,Bd3,a6,b6,Bd7,a4,f6,exf6,Rxf6,f3,e5,Nb3,Raf8,Rhf1,Kh8,a5,e4,fxe4,dxe4,Rxf6,Rxf6,Bxe4,Rf2+,Ke3,Rb2,Rf1,Rxb3+,Bd3,Kg8,Kd4', 'Rxd3+,Kxd3,Bb5+,Kd2,Bxf1', 'https://lichess.org/training/imgxS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMHeJ', 'Classical', 'rinatUs', 1649, 'Djurovic', 1605, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Bg4,Be2,Nc6,c3,Bxf3,Bxf3,dxe5,dxe5,e6,Qe2,Be7,O-O,h6,Rd1,Bg5,Bxg5,hxg5,c4,Nce7,cxd5,exd5,Bxd5,Nxd5,Qe4,c6,Nc3,Rh4,Qf3,Rf4,Qh5,Qb6,Rd2,O-O-O,Qxg5,Rb4,Qf5+,Kb8,Qxf7,Rf4,Qxg7,Rdf8,Rf1,Ne3,Re1,Ng4,Nd1,Nxf2,Nxf2', 'Rxf2,Qxf8+,Rxf8+', 'https://lichess.org/training/iMHeJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMhJ6', 'Rapid', 'ayesuck', 1695, 'ing64', 1696, 'e4,e5,d3,Nf6,Bg5,c6,Nf3,Be7,c4,a6,Nxe5', 'Qa5+,Bd2,Qxe5', 'https://lichess.org/training/iMhJ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IMjub', 'Classical', 'hratorre', 1611, 'santana00', 1696, 'e4,e5,Na3,a6,Nc4,f6,c3,d5,exd5,Qxd5,Ne3,Qd8,Qf3,Bd6,Bc4,Ne7,Ne2,c6,O-O,Qb6,Qg3,Ng6,b4,c5,Ba3,Nc6,Rab1,cxb4,Bxb4,Bxb4,cxb4,Qc7,Rfc1,Qd6,Nd5,Be6,Nb6,Rd8,d3,Nxb4', 'Bxe6,Qxe6,Rxb4', 'https://lichess.org/training/IMjub');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IMjyZ', 'Rapid', 'peter_Nady12', 2021, 'whitedead', 1990, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,Be6,O-O,Nc6,Ng5,Qd6,Re1,O-O-O,Nxe6,fxe6,Qe2,Nf4,Qf3,Nd4,Qc3,e5,d3,Nf3+,gxf3', 'Qg6+,Kf1,Qg2#', 'https://lichess.org/training/IMjyZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ImK5H', 'Rapid', 'Rusyaidi1039', 2115, 'wafiuddin', 1824, 'e3,d5,f4,e6,d3,Nc6,e4,d4,c3,Bc5,cxd4,Bxd4,Ne2,Bb6,g3,f5,exf5,exf5,Bg2,Nd4,Nxd4,Qxd4,Na3', 'Qf2#', 'https://lichess.org/training/ImK5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('imkbf', 'Blitz', 'DRIBOSS', 2015, 'Yompac99', 2063, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qh5,Be2,Bg4,O-O,f5,h3,Nf6,hxg4,Nxg4,d4,O-O-O,d5,e5,Bd3,Nd4,Re1,Nxf3+,gxf3', 'Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/imkbf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('imkGg', 'Classical', 'vedanta_b_7', 1864, 'abracadabra70', 1887, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,d5,Nc3,Bb4,exd5,Qxd5,Be3,Bxc3+,bxc3,Nf6,Be2,O-O,O-O,b6,c4,Qd6,c5,bxc5,dxc5,Qxd1,Rfxd1,Bb7,Bd4,Nxd4,Nxd4,Rfd8,c6,Bc8,c7,Rd7,Nb5,Nd5,Bf3,a6,Nc3,Nxc3', 'Rxd7,Bxd7,Bxa8', 'https://lichess.org/training/imkGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ImkWH', 'Rapid', 'junker', 1816, 'Yurachka', 1864, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,a3,Be7,Bd3,Nc6,Be3,Nf6,O-O,d6,h3,b5,b4,Bb7,f4,e5,fxe5,dxe5,Nf5,O-O,Nd5,Nxd5,exd5,Nd8,Nxe7+,Qxe7,Bc5,Qg5,Bxf8,Kxf8,Rf5,Qe3+,Kh1,Bxd5,Qe1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/ImkWH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IMLCn', 'Rapid', 'rajee1988', 1874, 'erenim53', 1842, 'd4,Nf6,Nc3,e6,e4,Bb4,e5,Nd5,Bd2,Bxc3,bxc3,b6,c4,Ne7,Bd3,Bb7,Nf3,d6,O-O,Nd7,Bb4,c5,dxc5,Nxc5,Bxc5,dxc5,Qe2,O-O,Ng5,h6,Qh5,Nc6,Bh7+,Kh8,Be4', 'Qxg5,Qxg5,hxg5', 'https://lichess.org/training/IMLCn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMLok', 'Blitz', 'Pearman', 1768, 'MrdanielSimangunsong', 1749, 'd4,e6,Nf3,Nf6,e3,d5,Bd3,Bd6,b3,Bd7,Bb2,Qe7,Nbd2,Nc6,O-O,h5,Ne5,Bxe5,dxe5,Ng4,h3,Ngxe5,Be2,O-O-O,Bb5,Nb4,Bxd7+,Rxd7,a3,Nbc6,Qe2,Kb8,c4,g5,cxd5,Rxd5,Nc4,g4,e4,Rc5,Nxe5,Nxe5,b4,Nf3+,gxf3,gxh3,bxc5', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/iMLok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMlVv', 'Classical', 'haythammed', 1851, 'elchin7761', 1755, 'g4,e5,Nc3,d5,g5,Qxg5,Nxd5,Bd6,d4,Qf5,dxe5,Bxe5,Nf3,Bd6,Rg1,Be6,Rg5,Qe4,Bg2,Bxd5,Rxd5,Nf6,Rg5,Nc6,Rxg7,Rg8,Rxg8+,Nxg8,Bg5,f6,Bh4,O-O-O,Qd3', 'Bb4+,Kf1,Rxd3', 'https://lichess.org/training/iMlVv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('imLWD', 'Rapid', 'HOLY_PHANTOM', 1739, 'thiagobcs', 1607, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bg5,Be7,Be2,h6,Bh4,c5,Bb5+,Bd7,Bxd7+,Qxd7,Qc4,a6,a4,O-O,O-O,Rab8,a5,b5,axb6,Rxb6,Bxf6,Bxf6,Nd5,Rxb2,Nxf6+,gxf6,Qc3,Rfb8,Qxf6,Rxc2,Rxa6,Qb5,Rxd6', 'Qxf1+,Kxf1,Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/imLWD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ImLXC', 'Classical', 'benibiz', 1778, 'naidra', 1861, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,a6,d4,d6,O-O,Nf6,Re1,Bg4,Be2,Nxe4,h3,Bxf3,Bxf3,Nf6,Bxc6+,bxc6,dxe5,dxe5,Rxe5+,Be7,Qa4,Qd6,Bf4,O-O,Rf5,Qd7,Ra5,Nd5,Bg3,Nb6,Qb3,Rfb8,Qc2,Nc4,Ra4,Rxb2,Qe4,Nd2,Nxd2,Rxd2,Qc4,Bf6,Rb1,Rd1+,Rxd1,Qxd1+,Kh2,Re8,Rxa6,Re1,Bxc7,Bh4,Qxh4', 'Rh1+,Kg3,Qd3+,f3,Qxa6', 'https://lichess.org/training/ImLXC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMmvH', 'Rapid', 'nik854', 1873, 'Brejnrod', 1887, 'e4,d5,e5,c5,f4,Bf5,c3,Nc6,Bb5,e6,d4,cxd4,cxd4,Bxb1,Rxb1', 'Qa5+,Kf2,Qxb5', 'https://lichess.org/training/iMmvH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ImnJ4', 'Blitz', 'hraich', 1619, 'Epicteto_375', 1624, 'e4,e6,Nf3,d5,e5,c5,b4,Nc6,c3,Nge7,bxc5,Nf5,d4,Be7,g4,Nh4,Nxh4,Bxh4,h3,O-O,Bd3,f6,exf6,Qxf6,Be3,Bxf2+,Ke2,Qf3+,Kd2,Bxe3+,Kc2,Qf2+,Be2,Qf4,Rf1,Qe4+,Bd3,Qg2+,Kb3,Rxf1,Bxf1,Qe4,Bd3,Nxd4+,cxd4,Qxd4,Nc3,Qxc5,Qf3,Bd4,Na4,Qa5,Rf1,Bd7', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/ImnJ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ImNSr', 'Rapid', 'Sergey_Gubanov222', 1900, 'christian_barkhoy', 1814, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nf6,Nf3,Be7,e5,Ng4,h3,Nh6,O-O,O-O,Nxc3,Nf5,Nd5,c6,Nxe7+,Nxe7,Qc2,Ng6,Bg5,Qe8,Rfe1,b5,Bb3,a5,a4,bxa4,Rxa4,Bb7,Nh4,Kh8,Nxg6+,fxg6,Rh4,Na6,e6,Nb4,Qe4,dxe6,Bxe6,Bc8', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/ImNSr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMONl', 'Blitz', 'valeronnikz', 1627, 'mak_7777', 2149, 'd4,d5,c4,c6,e3,e6,Nf3,f5,h4,Nf6,h5,Be7,cxd5,cxd5,Ne5,Nc6,Bb5,Bd7,h6,g6,g4,Nxe5,Bxd7+,Nexd7,g5,Ne4,Nc3,Bxg5,Nxe4,fxe4,Qg4,Qf6,Bd2,Qf5,Qe2,O-O,Bb4,Rf7,Qb5,Qxf2+,Kd1,Qf3+,Kc2,Rc8+,Kb3,Qxe3+,Ka4,Nb6+,Ka5,Nc4+,Ka4,Nxb2+,Ka5,Nc4+,Ka4,Qxd4,Rac1,Nb6+,Ka5,Rxc1', 'Qe8+,Rf8,Qxf8#', 'https://lichess.org/training/iMONl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMOy4', 'Classical', 'Zola2', 1707, 'sayd07', 1644, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,Nc6,c3,Na5,b4,Nxc4,bxc5,Na5,Ba3,Nc6,Nf3,d6,cxd6,cxd6,O-O,Be6,Nbd2,Qc7,Ng5,O-O-O,Nxe6,fxe6,Nf3,d5,exd5,exd5,Re1,Rhe8,Bb2,e4,Nd4,Qf4,Nxc6,bxc6,Qa4,exd3,Qxc6+,Kb8,Rxe8,Rxe8,Qb5+,Kc8,c4,d2,Bxf6', 'Re1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/iMOy4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ImOZn', 'Classical', 'dwang8319', 1613, 'benvex', 1616, 'd4,d5,c3,b6,Nf3,Ba6,Bf4,e6,g3,c5,Bh3,cxd4,Nxd4,Nf6,Qa4+,Nfd7,O-O,b5,Qc2,e5,Bxd7+,Nxd7,Bxe5,Nxe5,f4,Nc4,Re1,Rc8,e4,Bc5,exd5+,Kf8,Qf5,Bxd4+,cxd4,g6,Qd3,Qxd5,Nc3,Qb7,Ne4,Nxb2,Qa3+,b4,Qxb2,Qb6,a3,b3,Nc5,Kg7,Nxa6', 'Rc2,Qxc2,bxc2', 'https://lichess.org/training/ImOZn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMoZV', 'Classical', 'VaheVardanyan96', 1739, 'Ho27', 1886, 'e4,c5,Nf3,e6,d4,cxd4,Qxd4,Nc6,Qd1,b6,Bb5,Bb7,O-O,Be7,Nc3,Nf6,e5,Ng8,Bf4,Bb4,Bg5,Be7,Bxe7,Ngxe7,b3,O-O,a4,Ng6,Ne2,Ncxe5,Nxe5,Nxe5,Ng3,d5,Qh5,Ng6,Ne2,Qf6,Bd3,Qh4', 'Bxg6,Qxh5,Bxh5', 'https://lichess.org/training/iMoZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMQgs', 'Rapid', 'ReAlrik', 1672, 'Miquel17', 1642, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nf3,Bf5,Nc3,Qd7,Bf4,e6,e3,a6,h3,Bd6,Bg5,Ne4,Bc4,Nxg5,O-O,Nxf3+,Qxf3,b5,Qxa8,O-O,Bxb5,axb5,Qf3,Nc6,a3,Qe7,Qe2,b4,axb4,Nxb4,e4,Bg6,e5,Bd3,exd6,Qxd6,Qd2,Bxf1,Kxf1,Rd8,Nb5,Qe7,Rc1,c5,Rxc5', 'Qxc5,dxc5,Rxd2', 'https://lichess.org/training/iMQgs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMRAn', 'Rapid', 'rava_afshin', 1698, 'ikb', 1708, 'e4,e5,Nf3,Nf6,d4,Nxe4,Qe2,d5,Nxe5,Bd6,Qb5+,c6,Qd3,Bf5,Nc3,O-O,Nxe4,Bxe4,Qg3,Nd7,Bd3,Bxd3,Qxd3,Nxe5,dxe5,Bxe5,O-O,Qh4,g3,Qf6,c3,Rad8,Be3,d4,cxd4,Bxd4,Bxd4,Rxd4,Qb3,b5,Rac1,Rfd8,Qc3,Qg5,Qxc6,Rd2,Qc7,Rxb2,Qxa7,h6,Rc7,Rdd2,Rxf7,Rxa2,Qb7,Rab2,Rf3,b4,Qf7+,Kh8,Rf5,Qd8,Qg6,b3,Rf7,Qg8,Qf5,Rd8,Rb7,Rb8,Rc7,Ra2,Rcc1,b2,Rb1,Rf8,Qc2,Rb8,Rfe1,Qb3', 'Re8+,Rxe8,Qxb3', 'https://lichess.org/training/iMRAn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IMRno', 'Blitz', 'DawdlingBartender', 1578, 'mm007james', 1561, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,Bb4+,c3,Ba5,b4,Bb6,a4,a5,Ne5,Nf6,Nd2,O-O,Ndf3,h6,Nh4,g5,Bxg5,hxg5,Nxf5,exf5,h4,Kg7', 'hxg5,Ng4,Nxg4,fxg4,Qxg4', 'https://lichess.org/training/IMRno');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ImsvI', 'Blitz', 'FM Wuchtig', 2418, 'Bluesbrothers', 2257, 'c4,e6,g3,d5,Bg2,Nf6,Nf3,c6,O-O,Be7,b3,O-O,Bb2,Nbd7,e3,b6,Qe2,Bb7,Nc3,a6,Rad1,c5,d3,Qc7,Rd2,Rfe8,Nd1,Bd6,Rc2,dxc4,bxc4,e5,e4,Nf8,Ne3,Ne6,Nd5,Bxd5,cxd5,Nf8,Rfc1,Qe7,Nh4,g6,Bf1,N8d7,Ng2,Rec8,Ne3,b5,Bh3,Rc7,Qd2,Nb6,Qa5,Nc8,Rf1,h5,Qd2,Kh7,f4,exf4,gxf4,Nb6,e5,Nfxd5,Nxd5,Nxd5,exd6,Qxd6,Bg2,Re8,Rf3,Rce7,Be5,Qe6,Rxc5,f6,Bc3,Ne3,Bd4,Nxg2,Kxg2', 'Qg4+,Rg3,Re2+', 'https://lichess.org/training/ImsvI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ImwFS', 'Rapid', 'Xaeros', 1787, 'ThokozaniSM', 1810, 'e4,e5,Nc3,Bb4,f4,exf4,Nf3,Nc6,d4,d6,Bxf4,Nf6,e5,Nd5,Bd2,Nxd4,Nxd4', 'Qh4+,g3,Qxd4', 'https://lichess.org/training/ImwFS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMWkf', 'Blitz', 'Akbarku', 2102, 'CZA1980', 2077, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Be7,O-O,O-O,Qxd4,Nc6,Qd3,d6,a3,Bg4,Nc3,Bxf3,Qxf3,Ne5,Qe2,c6,Bb3,c5,Bf4,Nc6,Rad1,Nd4,Qe3,Nh5,Bg3,Nxg3,fxg3,Bg5,Qf2,Nxb3,cxb3,Qb6,h4,Bf6,Kh2,Bd4,Qc2,Qd8,Nd5,Be5,Nf4,g5,hxg5,Qxg5,Rf3,h5,Rdf1,h4,gxh4,Qxh4+,Kg1,Bd4+,R1f2,Rae8,g3,Qg4,Kg2,Bxf2,Rxf2,Re5,Nd5,Qxe4+', 'Qxe4,Rxe4,Nf6+,Kg7,Nxe4', 'https://lichess.org/training/iMWkf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMxb4', 'Rapid', 'ihsa70', 1856, 'Vladimir-Shagaliev', 1851, 'e4,c5,d3,e6,Nf3,Nc6,c3,b5,Be2,a5,a3,Bb7,Qc2,Nf6,h3,Be7,Be3,O-O,Nbd2,e5,O-O,d5,Nb3,d4,cxd4,cxd4,Bd2,a4,Nc1,Rc8,Qd1,Na7,Na2,Bc6,Nb4,Bxb4,Bxb4,Re8,Qd2,Re6,Rac1,Nh5,g3,f5,exf5,Rf6,Nxe5,Bb7,f4,Nxg3,Kh2,Nxf5,Bg4,Rxc1,Rxc1,Bc8,Qg2,h6,Re1,Ne3,Qf3,Bxg4,Nxg4,Nxg4+,Qxg4,Qc7,Re4,Kh7,Kg3', 'Rg6,Qxg6+,Kxg6', 'https://lichess.org/training/iMxb4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMYc1', 'Blitz', 'FM Rushh', 2383, 'CaissaSoeze', 2484, 'd4,Nf6,Bg5,c5,Bxf6,gxf6,dxc5,e6,e3,Bxc5,c4,Nc6,Nc3,Bb4,Rc1,Qa5,Qb3,a6,a3,Bxc3+,Qxc3,Qxc3+,Rxc3,b6,Nf3,Bb7,Be2,Rg8,O-O,Ne5,Kh1,Ke7,Rg1,Nxf3,Bxf3,Bxf3,gxf3,Rxg1+,Kxg1,Rc8,Kf1,Rc5,f4,b5,cxb5,Rxc3,bxc3,axb5,Ke2,Kd6,Kd3,Kc5,e4,d6,h3,h6,h4,h5,f5,d5,f3,e5', 'exd5,Kxd5,c4+,bxc4+,Kc3,e4,fxe4+', 'https://lichess.org/training/iMYc1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IMyn2', 'Rapid', 'Joe1981', 1878, 'ss7gowda', 1745, 'd4,d5,Nf3,Bf5,Nc3,Nc6,e3,h6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,e6,Qe2,Bd6,Ne5,Bxe5,dxe5,Nxe5,f4,Bg4,Qf2,Nc6,h3,Bf5,g4,Be4,Nxe4,Nxe4,Qg2,a5,c3,Ne7,Bc2,Nd6,f5,c6,fxe6,fxe6,Qf3,Qd7,e4,O-O-O,exd5,Rhf8,dxe6,Rxf3', 'exd7+,Rxd7,Rxf3', 'https://lichess.org/training/IMyn2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('imYwB', 'Rapid', 'sedatrkkk', 2053, 'Adilsiddiqui', 2070, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,c3,g6,d4,cxd4,cxd4,Bg7,O-O,d6,Bg5,Bg4,h3,Bxf3,Qxf3,h6,Be3,Nf6,e5,dxe5,dxe5,Nd5,Rd1,Bxe5,Nc3,e6,Qe4,Qf6,Nxd5,cxd5,Qa4+,Kf8,Rab1,Kg7,f4,Bxb2', 'Rxb2,Qxb2,Bd4+', 'https://lichess.org/training/imYwB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iMZEO', 'Blitz', 'ericirush', 1668, 'gayJahweh', 1698, 'e4,c5,Nf3,Nc6,d3,e6,Bg5,Nf6,h4,h6,Be3,d5,exd5,exd5,Be2,Bd6,Nc3,O-O,Bd2,a6,a3,b5,g3,d4,Ne4,Bg4,O-O,Re8,Nxf6+,Qxf6,Kg2,Qe6,Re1,h5,c3,Re7,cxd4,Nxd4,Nxd4,Bh3+,Kh2,cxd4,Bxh5,Qf5,Rxe7', 'Qxf2+,Kxh3,Qxg3#', 'https://lichess.org/training/iMZEO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IMzF0', 'Classical', 'NOnameONLYgame', 1674, 'crimsoncircle', 1738, 'c4,e5,Nc3,Nf6,Nf3,Nc6,d4,d6,e4,Bg4,Be2,Bxf3,Bxf3,exd4,Nd5,Nxd5,exd5,Ne5,Be4,Qf6,Qxd4', 'Nf3+,Bxf3,Qxd4', 'https://lichess.org/training/IMzF0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ImZNF', 'Rapid', 'davidovicone', 2121, 'edge333', 1730, 'e4,c6,Nf3,d5,e5,Bg4,h3,Bxf3,Qxf3,e6,d4,f6,c3,fxe5,Qh5+,g6,Qxe5,Qf6,Qc7,Nd7,Qxb7,Rb8,Qxc6,Ne7,Qa4,Bg7,Bb5,Rxb5,Qxb5,a6,Qxa6,O-O,O-O,Nf5,Qd3,e5,dxe5,Qxe5,Be3,Nxe3,Qxe3,Qb8,Qd2,Nf6,Na3,Rd8,Rad1,Ne4,Qc2,Qf4,Qc1,Qf5,Nb5,Bf8,Nd4,Qe5,f4,Qd6,Nf3,Qb6+,Nd4,Bc5,Kh2,Rc8,Nb3,Be3,Qc2,Qb8,g3,h5,Rxd5,Re8,Qe2,Nf6,Rg5', 'Bg1+,Kxg1,Rxe2', 'https://lichess.org/training/ImZNF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('in3C8', 'Rapid', 'isidorotegi', 2022, 'nebojsa1234', 1723, 'd4,d5,c4,Nf6,Nf3,b6,cxd5,Nxd5,e3,Bg4,Be2,e6,O-O,Bd6,Nc3,O-O,Nb5,Be7,Bd2,c6,Nc3,Nd7,Nxd5,cxd5,Rc1,Nf6,h3,Bh5,Bd3,Ne4,Re1,Nxd2,Qxd2,f5,Ne5,Be8,f4,a5,Qe2,Bb4,Rf1,Rc8,a3,Bd6,Bb5,Bxe5,fxe5,Bd7,Ba6,Rc7,Bd3,g6,Qd2,Bc6,Rc3,Rff7,Rfc1,Ba4,Rxc7,Rxc7,Rxc7,Qxc7,Qc3,Qxc3,bxc3,Bb3,Ba6,a4,Kf2,Bc4,Bc8,Kf7,Kg3,h6,h4,g5,Bd7,b5,Bc8,Bd3,hxg5,hxg5,Kf3,Ke7,g4,Be4+,Kg3,Kf7,Bd7,Bd3,Bc6,Kg6,Bd7,Kf7,Bc6,Ke7', 'gxf5,exf5,Bxd5', 'https://lichess.org/training/in3C8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iN5fP', 'Blitz', 'FM MFmauricioRamirez', 2440, 'Alexuni90', 2068, 'd4,d5,e3,c6,f4,Nf6,Bd3,b6,Nd2,Ba6,Bxa6,Nxa6,Ngf3,e6,Ne5,Nb8,O-O,Bd6,Rf3,Qc7,c3,Nbd7,Rh3,h6,Qf3,c5,a3,cxd4,exd4,b5,Qe2,a6,g4,Qb7,g5,Ne4,Nxe4,dxe4,Bd2,Bxe5,fxe5,O-O-O,Re1,hxg5,Rxh8,Rxh8,Bxg5,Nb6,Qxe4,Nd5,b3,Rh5,Bd2,Qe7,c4,bxc4,bxc4,Nc7,d5,exd5', 'Qg4+,Qe6,Qxh5', 'https://lichess.org/training/iN5fP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IN661', 'Classical', 'khaledegy', 1685, 'samborin', 1644, 'e4,e5,Nf3,Nc6,Bb5,f6,Nc3,Bc5,Nh4,Nd4,Qh5+,g6', 'Nxg6,hxg6,Qxh8', 'https://lichess.org/training/IN661');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('In66c', 'Rapid', 'waleedqb', 1656, 'Geremignolo2020', 1761, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Nc3,e5,Qa4+,Bd7,Bb5,Nf6,Bg5,Be7,Nd5', 'Nxd5,Bxd7+,Qxd7,Qxd7+,Kxd7', 'https://lichess.org/training/In66c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iN6pV', 'Rapid', 'TheGreedyKing', 1957, 'shahmatchi', 1924, 'e4,e5,f4,exf4,Bc4,Qh4+,Kf1,Nf6,Nf3,Qh6,Nc3,c6,d4,Bb4,e5,d5,exf6,dxc4,Qe2+,Be6,d5,cxd5,Nxd5,Bd6,fxg7,Qxg7,Bd2,O-O,Bc3,Qg6,Nh4,Qh6,Nf6+,Kg7,Ne8+,Kg8,Nxd6,Qxh4,Ne4,Nd7,Qf2,Qg4,Re1,Qf5,h4,h5,Rh3,Kh7,Qd4,Rg8,Ng5+,Kg6,Rf3,Rad8,Rxf4,Qxc2,Nxf7,Bxf7,Rf6+,Kh7,Rxf7+,Kh6,Qe3+,Kg6,Qg5+,Kxf7,Re7+,Kf8', 'Bg7+,Rxg7,Qxg7#', 'https://lichess.org/training/iN6pV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IN9IW', 'Blitz', 'CM yankitaspinar', 2568, 'kirlianitalian', 2556, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Be7,Bf1,Nf5,c3,O-O,d4,Nxe5,Rxe5,d5,Qf3,g6,Rxd5,Bd6,Rb5,c6,Rb3,b5,Qxc6,Be6,Rxb5,a6,Rb7,Bd5,Qb6,Qh4,h3,Rae8,Bd2,Bh2+,Kxh2,Qxf2,Na3,Re2,Rd7,Qxg2+,Bxg2', 'Rxg2+,Kh1,Ng3#', 'https://lichess.org/training/IN9IW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('inBXL', 'Rapid', 'CrowChess', 2037, 'ArchiePawn', 2203, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,g4,Bg6,Nge2,c5,h4,h5,Nf4,Bh7,Nxh5,Nc6,dxc5,Nxe5,f4,Nc6,f5,Bxc5,fxe6,fxe6,Bd3,Bxd3,Qxd3,Nge7,Nxg7+,Kd7,Bg5,Qf8,Nxd5,exd5,Nf5,Nxf5,Qxd5+,Nd6,O-O-O,b6,Rhf1,Qg8', 'Rf7+,Qxf7,Qxf7+', 'https://lichess.org/training/inBXL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('InC0g', 'Rapid', 'VanishingDomino', 1602, 'Fridolf06', 2002, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,O-O,d6,c3,Na5,Bc2,c5,a4,Bb7,axb5,axb5,Bd2,O-O,Na3,Bc6,b4,cxb4,cxb4,Nb7,Bb3,Nd7,Nc2,Rxa1,Qxa1,Qc7,Rc1,Kh8,Ne3,Qb6,Bd5,Rc8,Bxf7,Nd8,Bd5,Ra8,Qb2,Nf6,Bxc6,Nxc6,Qb3,Nd4,Nxd4,Qxd4,Nf5,Qa7,Qf7,Bf8,Qb3,Qa1,Qd1,Qa2,Rc2,Qb3,Rc1,Qxd3,Qe1,Nxe4,Be3,Nc3,Ng3,Na2,Rd1,Qb3,Bd2,Qb2,Rb1,Qc2,h3,h6,Kh2,Rc8,Ra1,d5,Qe2,Nc3,Bxc3,Qxc3,Rb1,Bxb4,Qxb5,Bf8,Qxd5,Qc2,Rf1,Bc5,Qf3,Rf8,Qc6,Rxf2,Qe8+,Kh7,Qxe5', 'Rxg2+,Kh1,Rh2#', 'https://lichess.org/training/InC0g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('InCed', 'Classical', 'kalesa84', 1794, 'risingstarz', 2105, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Qf6,c3,Nge7,Re1,O-O,d3,h6,Nbd2,d6,Nb3,Bb6,a4,a6,a5,Ba7,h3,Nd8,Nh2,c6,Nd2,Bxf2+,Kh1,Bxe1,Qxe1,Ne6,Bxe6,Bxe6,Ndf3,Ng6,Be3,Nf4,Bxf4,Qxf4,Qf2,f5', 'g3,Qxe4,dxe4', 'https://lichess.org/training/InCed');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('InD0q', 'Classical', 'totofishg', 2094, 'chess4fun12', 1826, 'c4,Nf6,Nf3,g6,b3,Bg7,Bb2,Nh5,Bxg7,Nxg7,Nc3,e6,d4,Nc6,h4,O-O,d5,Ne7,e4,exd5,cxd5,Re8,Bd3,d6,Qd2,Bg4,O-O-O,Bxf3,gxf3,f5,Qh6,Rf8,h5,Nxh5,Rxh5,gxh5,Rg1+,Ng6,exf5,Qf6,fxg6,Qxc3+,Bc2,Qa1+,Bb1,Qc3+,Bc2,Qa1+,Kd2,Qd4+,Ke2,Rae8+,Be4,Rxe4+,fxe4,Qxf2+,Kd3,Rf3+,Kc4,Qe2+', 'Kb4,Qxe4+,Ka3,hxg6,Rxg6+,Qxg6,Qxg6+', 'https://lichess.org/training/InD0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('inDPT', 'Blitz', 'Expherrt', 1790, 'Revelacion2020', 1797, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,Bb4,Qc2,Ne4,Bd2,Bxc3,Bxc3,d5,cxd5,exd5,Ne5,O-O,e3,c6,h4,f4,O-O-O,fxe3,f3,Ng3,Rh2,Bf5,Bd3,e2,Re1,Bxd3,Qxd3,Nd7,Rh3,Nxe5,dxe5,Qb6,Rxg3,Qf2,Rg4,h5,Rg5,Qxh4,Qg6,Rf7,e6,Re7,Bxg7', 'Qxe1+,Kc2,Qd1+,Kc3,e1=Q#', 'https://lichess.org/training/inDPT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('indsS', 'Classical', 'phunltb123', 1739, 'Mobin_2007', 1767, 'd4,Nf6,Nf3,d5,Ne5,Bf5,e4,Nxe4,Nc3,Nc6,Nxe4,Bxe4,Bd3,Bxd3,cxd3,Nxd4,O-O,g6', 'Qa4+,c6,Qxd4', 'https://lichess.org/training/indsS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('inEcC', 'Rapid', 'Feda61', 1698, 'Ismailking126', 1680, 'e4,e5,Nf3,Nf6,Nxe5,d5,exd5,Nxd5,Qf3,Qe7,Bc4,c6,d4,f6,O-O,fxe5,Re1,Qf6,Qh5+,g6,Qxe5+,Qxe5,Rxe5+,Be7,Bg5,Kd7,Bxd5,Bxg5,Be6+,Kd6', 'Bxc8,Rxc8,Rxg5', 'https://lichess.org/training/inEcC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('inEPK', 'Rapid', 'lchessgag', 1732, 'istinkdotcom', 1690, 'e4,c6,d4,d6,c4,Qa5+,Bd2,Qb6,Bc3,Nf6,Bd3,Bg4,Qd2,e6,h3,Bh5,f4,h6,f5,exf5,exf5,Be7,g4,Bxg4,hxg4,Nxg4,Qf4,Nf6,Nd2,Nbd7,O-O-O,O-O-O,Re1,Rde8,Ngf3,Qa6,Kb1,b6,Ne4,d5,Nd6+,Bxd6,Qxd6,Kb7,b3,dxc4,Bxc4,b5,Bd3,Qb6,Rhg1,Rhg8,Kc2,Rd8,Qf4,Nd5,Bd2,Nxf4,Bxf4,f6,Bd6,Ka6,b4,Qb7,a4,Nb6', 'axb5+,cxb5,Ra1+,Na4,Rxa4+,Kb6,Bc5+', 'https://lichess.org/training/inEPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iNevO', 'Classical', 'Kvant52', 1906, 'kerem12345678', 1904, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Bg4,d4,Nf6,d5,Ne7,Bg5,Nxe4,Bb5+,c6', 'dxc6,bxc6,Bxc6+', 'https://lichess.org/training/iNevO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('INFt0', 'Rapid', 'jroux86', 1793, 'abbiatepazienza', 1797, 'Nf3,Nf6,g3,c6,Bg2,e6,O-O,d5,c4,Be7,d3,O-O,b3,d4,Qc2,c5,Bb2,Nc6,e3,e5,Nbd2,Bf5,e4,Bg6,Nh4,Nb4,Qb1,Nd7,Nxg6,fxg6,a3,Nc6,Bc1,Bg5,Qc2,Qe7,Nb1,Bxc1,Qxc1,b6,f4,a5,Qd2,h6,Ra2,Rf6,Qc1,Raf8,Raf2,exf4,Rxf4,Nde5,Qd2,g5,Rf5,Qe6,Bh3,g4,Bg2,Rxf5,exf5,Rxf5', 'Bd5,Nf3+,Rxf3,Rxd5,cxd5', 'https://lichess.org/training/INFt0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('inFyq', 'Rapid', 'VEseb', 1688, 'VR2530', 1673, 'd4,Nf6,Nc3,e6,Bg5,b6,e4,d6,Nf3,Be7,Bc4,Bb7,Bxf6,Bxf6,O-O,O-O,Nd2,h6,f3,Re8,Nb3,d5,Bd3,a5,a4,Nd7,Nb5,c6,Nd6,Ba6,Nxe8,Qxe8,Bxa6,Rxa6,Qd3,Ra8,c4,e5,cxd5,cxd5,Qb5,dxe4,fxe4,exd4,Rad1,Qe6,Nxd4,Bxd4+,Rxd4,Nc5,Rfd1,Nxe4,Rd8+,Rxd8,Rxd8+,Kh7,Qd3,Qe7,Rd4,f5,Rd7', 'Qc5+,Rd4,Qc1+,Qf1,Qe3+', 'https://lichess.org/training/inFyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('inG5M', 'Blitz', 'Fiftyn14', 2152, 'MUTHUKUMARTC', 2047, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c3,d6,O-O,a6,Ba4,b5,Bb3,Be6,Bxe6,fxe6,d4,Ng6,a4,Be7,axb5,axb5,Rxa8,Qxa8,Na3,Qb7,Qe2,Na7,Ng5,Bxg5,Bxg5,O-O,Nc2,c6,dxe5,Nxe5,Nd4,Qd7,Be3,c5,Nc2,Qc6,f3,Nc4,b3,Nxe3,Nxe3,Qb6,Rd1,Rd8,Qd2,Nc6,h3,b4,Nc4,Qa7,cxb4,cxb4+,Kh2,d5,exd5,exd5,Ne3,Qc7+,Kh1,d4,Nf5,Rd5,Qg5,Kh8,Re1,Qf7', 'Re8+,Qxe8,Qxg7#', 'https://lichess.org/training/inG5M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('inGvR', 'Blitz', 'carlovelasco', 2075, 'Joel_Hicap', 2252, 'd4,d5,c4,Nc6,Nf3,Bg4,e3,e5,cxd5,Qxd5,Nc3,Bb4,dxe5,Qxd1+,Kxd1,O-O-O+,Kc2,Bxc3,bxc3,Bf5+,Kb2,Be4,Be2,Bxf3,gxf3,Nxe5,Kc2,Nf6,Rg1,g6,Rb1,h5,f4,Neg4,Bf3,Nxh2,Bxb7+,Kd7,Ba3,c6,Ba6,Rhe8,Rb7+,Ke6,Bc4+,Nd5,e4,Nf3,Rd1,Kf6,exd5,cxd5,Bxd5,Re2+,Kc1,Rxd5,Rxd5,h4,Rdd7,Kf5,Rxf7+,Kg4,Rh7,h3,Rbg7,g5,Bd6,Re1+,Kb2,Re2+,Kb3,Re6,Be7,h2,Bxg5,Kf5,Rf7+,Ke4,Rd7,Rb6+,Kc2,Ne1+,Kd1,Nf3,Ke2,Rb2+,Kf1,Rb1+,Kg2', 'Rg1+,Kh3,h1=Q#', 'https://lichess.org/training/inGvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('InhIg', 'Blitz', 'shukinha', 1814, 'Vytautas1983', 1803, 'c4,e5,Nc3,Bb4,Nf3,Bxc3,bxc3,e4,Nd4,Nf6,d3,d5,cxd5,Qxd5,dxe4,Nxe4,Qc2,Bf5,Qb2,b6,Bf4,c5,Qb5+,Bd7,Qb3,Qxb3,Nxb3,Nxc3,Be5,Na4,Bxg7,Rg8,Bf6,Be6,g3,Nd7,Bh4,Bd5,Rg1,Ne5,f3,Nc4,e4,Be6,Bxc4,Bxc4,O-O-O,Nc3,Rd2,Rg6,Rc2,Ne2+,Rxe2,Bxe2,f4,Rc8,Kb2,c4,Nd4,Rd6,Nxe2,Rd2+,Kc3,Rxe2,e5,Rxa2,f5,Rxh2,f6,Ra2,Re1,b5,e6,Rc6,e7,Re6,Rd1,Re3+,Kb4,Rb2+,Kc5,Rd3,Ra1,Rd7,Ra6,c3,Rc6,c2', 'Rc8+,Rd8,exd8=Q#', 'https://lichess.org/training/InhIg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('inipt', 'Rapid', 'zarouk', 1995, 'Kaustubh07', 1907, 'e4,c5,f4,d6,d3,a6,Nf3,e6,Be2,b5,O-O,Bb7,c3,Nd7,Be3,Ngf6,Nbd2,Be7,e5,dxe5,Nxe5,Rc8,c4,b4,b3,Qc7,Nxd7,Nxd7,Bf3,Bxf3,Rxf3,Bf6,Ne4,O-O,Nxf6+,Nxf6,Rg3,Rfd8,Qe2,Rd6,Rd1,Rcd8,Bc1,Rd4,Qe3,Qd6,Qf2,Nh5,Rf3,Nf6,Bb2,Ng4,Qh4,Rxf4,Rxf4,Qxf4', 'Qxd8#', 'https://lichess.org/training/inipt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iNj9h', 'Rapid', 'Arsen_Arakelian', 1880, 'Mramire1', 2249, 'e4,e5,f4,exf4,Nf3,d5,exd5,Nf6,c4,Bd6,Nc3,O-O,d4,Re8+,Be2,b6,O-O,h6,Qd3,c5,Nb5,g5,Nxd6,Qxd6,Bd2,Bg4,Rae1,Nbd7,Bc3,Re3,Qc2,Rae8,Ne5,Bxe2,Rxe2,Rxe2,Qxe2,cxd4,Bxd4,Nc5,Re1,a5,h3,Nfe4,Qh5,Re7,a3,Ng3,Qg4,f6,Qc8+,Kg7,Nf3', 'Rxe1+,Nxe1,Ne2+,Kh1,Nxd4', 'https://lichess.org/training/iNj9h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('INJnZ', 'Rapid', 'flavio_lima', 1861, 'LKAryan', 1877, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bg4,h3,Bf5,Ne5,Nbd7,Bf4,e6,c5,Nxe5,Bxe5,Be7,e3,Qa5,Bd3,Bxd3,Qxd3,Qb4,O-O,O-O-O,b3,h5,Rfb1,Qa3,f3,Rh6,b4,Qa6,b5,cxb5,Nxb5,Kd7,a4,Rc8,Rc1,Kd8,a5,Rg6,Qb3,Nd7,Bd6,Rc6,Nc7,Rxc7,Bxc7+,Kxc7,c6,bxc6,Rab1,Bd6,Qb2,Qc8,Rxc6+,Kxc6,Rc1+,Nc5,dxc5,Bb8,Qb3,Kc7,Qb5,Qb7,Qa4,Qc6,Qf4+,Kc8', 'Qxf7,Bc7,Qxg6', 'https://lichess.org/training/INJnZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('INN07', 'Blitz', 'TrebinjacAG', 1642, 'hungrydetective', 1637, 'e4,e5,Bc4,Nc6,d3,Nf6,Bg5,Be7,Nf3,d6,h3,a6,Nc3,Nb8,Nd5,b5,Nxe7,Qxe7,Bb3,c5,a4,b4,c3,a5,O-O,O-O,d4,cxd4,cxd4,Nc6,dxe5,Nxe5,Nxe5,Qxe5,Bxf6,Qxf6,Rb1,Ba6,Re1,Qe5,Qd5,Rfe8,Qxe5,Rxe5,Rbd1,Rd8,f4,Rc5,e5,d5,Rd2,Kf8,Red1,Bb7,Kf2,f6,g3,fxe5,fxe5,Ke7,Kf3,d4+,Kf4,Rf8+,Kg5,Rxe5+,Kh4,Re4+,g4,Rf3,Bc2,Kf6,Bxe4', 'g5+,Kh5,Rxh3#', 'https://lichess.org/training/INN07');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iNN42', 'Rapid', 'molekulax', 1915, 'itsukinakano', 1864, 'e4,d6,Nf3,e5,Nc3,c6,Bc4,Nf6,Ng5,d5,exd5,cxd5,Bb3,h6,Nf3,e4,Ne5,Bd6,Ng4,Bxg4,f3,exf3,gxf3,Be6,d4,O-O,Qe2,Re8,Be3,Bb4,O-O-O,Bxc3,bxc3,Qd6,Qg2,Qa3+,Kb1,Kh8,Rhg1,Nh5,Qe2,Nd7,Rd3,Ndf6,c4,Qd6,Rc3,dxc4,Bxc4,Bxc4,Qxc4,Rac8,Qxf7,Rxc3,Bxh6,gxh6,Rg6,Qe7', 'Rxh6+,Nh7,Rxh7#', 'https://lichess.org/training/iNN42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iNNWa', 'Classical', 'VVNARANGAVARMA', 1679, 'Raffaelesarpi', 1635, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,h6,Bf4,Bd6,Bxd6,cxd6,e3,e5,cxd5,e4,Nd2,Bf5,Qc2,Qe7,f3,O-O,fxe4,Bg6,Bd3,Ng4,Nf1,Bh5,Be2,Qg5,Qd2,Nd7,h3,Ngf6,O-O-O,Bxe2,Qxe2,Rac8,Kb1,a6,Rc1,Qg6,Nd2,Nb6,Rhf1,Rfe8,Rf5', 'Nxe4,Ndxe4,Qxf5', 'https://lichess.org/training/iNNWa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('InOz2', 'Rapid', 'alex-f87', 1633, 'mohamed_zekrallah81', 1718, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,Nc6,Nf3,d5,Bg5,h6,Bh4,g5,Bg3,Ne4,Qc2,Nxg3,hxg3,Qf6,e4,dxe4,Qxe4,Bd7,Ne5,Nxe5,dxe5,Bc6', 'Qxc6+,bxc6,exf6', 'https://lichess.org/training/InOz2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('INPYf', 'Rapid', 'maestrojoker', 2095, 'Gmshazzadul2900', 2125, 'e4,c5,Nc3,Nc6,f4,e6,Bb5,Qc7,d3,Nf6,Nf3,d5,exd5,Nxd5,Nxd5,exd5,Ne5', 'Qa5+,Kf2,Qxb5', 'https://lichess.org/training/INPYf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('INq4l', 'Blitz', 'sergik101', 2380, 'FM Rile-Man', 2507, 'e4,d6,d4,g6,Nc3,Bg7,Be3,a6,Qd2,b5,f3,Bb7,g4,h5,g5,Nd7,Nge2,Rc8,Bg2,c5,O-O,h4,h3,b4,Nd1,a5,Nf2,Nb6,b3,c4,Ng4,e6,Rad1,c3,Qc1,Ba6,Rf2,Ne7,f4,d5,Nf6+,Bxf6,gxf6,Ng8,f5,gxf5,exf5,Rc6,fxe6,Rxe6,Nf4,Rxf6,Re1,Kf8,Nd3,Rxf2,Nxf2,Qd6,Bf4,Qg6,Ng4,Bc8,Qe3,Bxg4,Qe8+,Kg7,hxg4,Nf6,Qe5,Qxg4,Kh2,h3,Bh1,Rh5,Qe3,Qg6,Bf3,Kh7,Rg1,Qf5,Bxh5,Nxh5,Rg5', 'Qxf4+,Qxf4,Nxf4', 'https://lichess.org/training/INq4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('InqGZ', 'Rapid', 'cieloblu', 1815, 'LookAtThisDudeUohoho', 1832, 'e4,e5,d4,exd4,Qxd4,Nc6,Qa4,Bc5,Bb5,Nge7,Bg5,a6,Nc3,axb5,Qxa8,b4,Nd5,O-O,Qa4,f6,Nxe7+,Qxe7,Be3,Qxe4,Qb3+,d5,O-O-O,Bxe3+,Qxe3,Qxg2,Ne2,d4,Nxd4,Nxd4,Qxd4,Be6,b3,Qg5+,f4,Qa5,Qb2,c5,Kb1,Ra8,Rd2,c4,Rd4', 'c3', 'https://lichess.org/training/InqGZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('InSPP', 'Blitz', 'PippLogic', 1683, 'milotoor', 1690, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be7,Be3,Be6,Qd2,O-O,h4,Nh5,O-O-O,Ng3,Rh2,Bxh4,Bf2,Nxf1,Rxf1,Bxf2,Qxf2,Nc6,Rfh1,h6,Qd2,Kh7,Nd5,Bxd5,Qxd5,Qf6,g4,Qxf3,Qxd6,Qxg4', 'Rxh6+,gxh6,Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/InSPP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('INSwD', 'Rapid', 'ivangrad', 2001, 'Szachimat2004', 2073, 'd4,d5,c3,e6,Bf4,Bd6,e3,Nf6,Nf3,Nbd7,Ne5,O-O,Bd3,c5,Nxf7,Rxf7,Bxd6,cxd4,exd4,Ne4,Bxe4,dxe4,Qe2,Qg5,O-O,e5,Qxe4,exd4,cxd4,Nf6,Qe5,Qg6,f3,Bf5,Nc3,Re8,Qb5,Rd7,Be5,Bd3,Qa4,Bxf1,Rxf1,Qf7,f4,Ng4,Qxa7,Qh5,h3,Ne3,Rf3,Nc4,Qa4,Qf7,b3,Nxe5,fxe5,Qe7,Qc4+,Kh8,Nd5,Qe6,Nc7', 'Qxc4,bxc4,Rxc7', 'https://lichess.org/training/INSwD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('INUeZ', 'Rapid', 'DKemal', 1706, 'X__Gandalf__X', 1725, 'e4,e5,Nf3,Nc6,c4,Bc5,Nc3,Nf6,d3,h6,Be2,d6,Be3,Bxe3,fxe3,O-O,h3,b6,a3,Bb7,Qc2,Ne7,d4,Re8,O-O-O,exd4,exd4,Ng6,e5,Be4,Nxe4,Nxe4,Qxe4,Qd7,Qd3,Nf4,Qd2,dxe5,dxe5,Qf5,Bd3,Nxd3+,Qxd3,Qf4+,Kb1,Rad8,Qc3,Qe4+,Ka1,c5,Rhe1,Qf5,Rxd8,Rxd8,Rc1,Rd3,Qc2,Kf8,Rd1', 'Rxa3+,Kb1,Ra1+,Kxa1,Qxc2', 'https://lichess.org/training/INUeZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iNuHz', 'Classical', 'CirdantheShipwright', 1984, 'h1c2k3', 2014, 'e4,e5,Nc3,Nf6,f4,Nc6,Nf3,Bc5,Nxe5,d5,Nxc6,bxc6,e5,Ng4,d4,Be7,h3', 'Bh4+,Kd2,Nf2,Qf3,Nxh1', 'https://lichess.org/training/iNuHz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('INVDv', 'Classical', 'ilkoryan', 1742, 'blurayhacker', 1740, 'd4,d5,c3,e6,Bf4,c5,e3,Nf6,Be2,Nc6,Nf3,Be7,Ne5,Nxe5,Bxe5,O-O,Nd2,Qb6,Qc2,Nd7,Bg3,Qd8,dxc5,Nxc5,Nb3,Ne4,Bd3,Nxg3', 'Bxh7+,Kh8,hxg3,g6,Bxg6+', 'https://lichess.org/training/INVDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('inxE2', 'Rapid', 'hubertor', 2084, 'Kingnightfury', 1964, 'e3,c5,c4,g6,Nc3,Bg7,g3,d6,Bg2,Nc6,Nge2,e6,a3,Nge7,f4,Rb8,O-O,b6,d4,Bb7,d5,exd5,cxd5,Na5,e4,Ba6,b4,Bxe2,Nxe2,Bxa1,bxa5,bxa5,f5,gxf5,exf5,Bf6,Nf4,Nxf5,Nh5,Bd4+,Kh1,Ne7,Qxd4,cxd4', 'Nf6+,Kf8,Bh6#', 'https://lichess.org/training/inxE2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iNXeC', 'Rapid', 'JAVOHR', 1613, 'dihe1812', 1749, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Qxe2+,Bxe2,Nf6,Nf3,a6,O-O,e6,d4,b5,a3,Bb7,Bf4,Bd6,Be5,Bxe5,dxe5,Nd5,Nxd5,Bxd5,b3,Nd7,c4,bxc4,bxc4,Be4,Nd2,Bg6,f4,O-O,Rac1,f6,Nf3,fxe5,Nxe5,Nxe5,fxe5,Rxf1+,Kxf1,Rb8,c5,a5,a4,Rb1,Rxb1,Bxb1,Kf2,Kf7,Kf3,Kg6,Kf4,h5,h4,Ba2,g4,hxg4,Bxg4,Bb3,Ke4,Bxa4,Bxe6,c6,Bd7,Bc2+,Kf4,a4,e6,Kf6,Ke3', 'a3,Kd2,a2,Kxc2,a1=Q', 'https://lichess.org/training/iNXeC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('INXkm', 'Classical', 'nugzariubilava', 1823, 'manyakub', 1808, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d3,h6,Be2,d6,h3,Be7,Bd2,O-O,O-O,Nh7,Nh2,f5,exf5,Bxf5,Bg4,Bg5,Bxg5,Nxg5,Nd5,Ne7,Nxe7+,Qxe7,Kh1,Rf6,f4,Ne6,fxe5,Bxg4,Nxg4,Rxf1+,Qxf1,Rf8,Qe2,Nf4,Qe4,d5,Qe3,h5,Nh2,Qb4,b3,d4,Qe1,Qc5,Qe4,Qxc2,Rf1,Nxd3', 'Qd5+,Kh7,Rxf8', 'https://lichess.org/training/INXkm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('InY5Q', 'Classical', 'Spanisch', 1760, 'taliii', 1737, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bc4,Bb4,Nxc6,bxc6,Bd2,O-O,O-O,d5,exd5,exd5,Bd3,Bg4,Be2,Bxe2,Qxe2,Re8,Qd3,Qc7,Nxd5', 'Nxd5,Bxb4,Nxb4', 'https://lichess.org/training/InY5Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('INYfz', 'Rapid', 'zgred3k', 2200, 'daridestructor06', 2200, 'd4,e6,Nf3,d5,g3,Nf6,Bg2,Bd6,O-O,b6,c4,Bb7,Nbd2,Nbd7,Qc2,O-O,a3,Ne4,Nxe4,dxe4,Ng5,Nf6,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Qf6,Be3,Rad8,Qc6,h5,h4,Qg6,Kg2,f5,Bg5,f4,c5,bxc5,dxc5,Be5,Rad1,Rxd1,Rxd1,fxg3,fxg3,Qf5,Qf3,Qc2,Qd3,Qxc5,b4,Qf2+,Kh1', 'Bxg3,Qxg3,Qxg3', 'https://lichess.org/training/INYfz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('InZ9q', 'Blitz', 'Santiago_gimenez', 1994, 'Knoosh', 2072, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,Be7,Bd3,O-O,O-O,d5,exd5,Nxd5,Nxd5,Bg4,Nxe7+,Qxe7,Be4,Nd4,Be3,Rad8,Bxd4,Rxd4,Qe2,Qb4,Bd3,Qxb2,Qe3,Bxf3,Qxf3,b6,Qf5,Rh4,a4,Qd4,a5,e4,Be2,e3,axb6,axb6,fxe3,Qxe3+,Kh1,Qxe2', 'Qxf7+,Rxf7,Ra8+,Qe8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/InZ9q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iNzmJ', 'Blitz', 'sb_362', 2065, 'OXPEHETb', 2136, 'd4,d5,c4,e6,g3,a5,Bg2,a4,Nf3,dxc4,O-O,c6,Qc2,b5,Rd1,Ne7,Nc3,Nd5,Ne5,f6,Nxd5,exd5,Nf3,Bd6,e4,O-O,e5,fxe5,Nxe5,Bxe5,dxe5,Be6,Be3,Nd7,b3,axb3,axb3,Rxa1,Rxa1,Nxe5,Bd4,Nf3+,Bxf3,Rxf3,Qe2,Bg4,Qe5,Rf7,Ra6,Bh3,Rb6,Re7', 'Rb8,Rxe5,Rxd8+,Kf7,Bxe5', 'https://lichess.org/training/iNzmJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IO0VL', 'Rapid', 'echecetmat45', 2253, 'sabuj2015', 1977, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nc3,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Bb4,a3,Bxc3+,Qxc3,O-O,Bg5,c6,O-O,Nbd7,Rad1,Qb6,Ne5,Nxe5,Bxf6,Nd7,Bh4,f6,d5,e5,b4,cxd5,Rxd5,Qe6,Rfd1,Nb6,Rc5,Na4,Qe3,Nxc5,Qxc5,Rfc8,Qb5,Qxc4', 'Rd8+,Rxd8,Qxc4+', 'https://lichess.org/training/IO0VL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iO2Lq', 'Rapid', 'akalina', 1649, 'yashmeet57', 1642, 'e4,e6,Nc3,Be7,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,O-O,Bd3,h6,Bxf6,Bxf6,O-O,Nc6,Ne2,a6,c3,b5,b4,Re8,a3,Bg4,Nc1,Qd7,h3,Bxf3,Qxf3,a5,Na2,axb4,Nxb4,Nxb4,axb4,c6,Rxa8,Rxa8,Re1,Re8,Rxe8+,Qxe8,Qf5,Qe1+,Kh2,Qxc3', 'Qc8+,Bd8,Qxd8#', 'https://lichess.org/training/iO2Lq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('io2t8', 'Rapid', 'muyunda', 1865, 'BlunderET', 1857, 'e4,c5,Bc4,Nc6,Bxf7+,Kxf7,Qh5+,g6,Qxc5,e6,Qc3,Bg7,Qg3,Nf6,d3,Rf8,Nf3,Kg8,O-O,Nh5,Qg4,e5,Ng5,d6,Qd1,Bf6,Nf3,Ng7,Nc3,Be7,Bh6,Rf7,h3,Be6,Nd5,Bxd5,exd5,Nb8,c4,Nd7,Qd2,Nf5,Be3,Nxe3,fxe3,Qc7,b3,Raf8,b4,a6,Rac1,Qd8,e4,Nf6,Ng5,Nd7,Nxf7,Rxf7,Rxf7,Kxf7,Rf1+,Kg8,Qh6', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/io2t8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('io3cD', 'Blitz', 'onlygod', 2288, 'IM pollovsky', 2361, 'c4,c5,Nc3,Nc6,e4,g6,Nge2,Bg7,d3,d6,Be3,Nf6,h3,O-O,g4,Nd7,Bg2,a6,f4,Rb8,Qd2,b5,O-O,Nd4,Ng3,e6,f5,Ne5,b3,Nec6,Rae1,bxc4,dxc4,exf5,exf5,Re8,Bh6,Bb7,Bxg7,Kxg7,f6+,Kh8,Qh6,Rg8,g5,Ne5,Rf4,Qf8', 'Qxh7+,Kxh7,Rh4+,Qh6,Rxh6#', 'https://lichess.org/training/io3cD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('io3PY', 'Rapid', 'haluong92', 1718, 'damedeu', 1613, 'e4,e5,d3,Nc6,c3,d5,Qe2,d4,h3,Nf6,g4,h5,g5,Nd7,h4,a5,a3,Nc5,Nd2,dxc3,bxc3,Be6,Rb1,Bg4,f3,Be6,Bh3,Nxd3+,Kf1,Nf4,Qb5,Nxh3,Nxh3,Ra7,a4,Qd7,Nf2,b6,c4,Ra8,Kg2,Bc5,Rf1,Rd8,Rb2,f5,Rc2,fxe4,Ndxe4,Bxf2,Nxf2,O-O,Be3,Rf7,c5,Rdf8,cxb6,Rxf3,Bc5,Bh3+,Kh2,R8f4,b7,Bxf1,Qxf1,Rxf2+,Rxf2,Rxh4+,Kg1,Qg4+,Rg2,Qh3,b8=Q+,Nxb8', 'Qf8+,Kh7,g6+,Kh6,Qh8#', 'https://lichess.org/training/io3PY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iO8mT', 'Rapid', 'Hakyona', 1787, 'bahardarabi1390', 1831, 'c4,e6,e3,d5,d4,c5,Nf3,Nc6,Nc3,Nf6,Be2,Qb6,O-O,Be7,Ne5,O-O,f4,h6,Rf3,cxd4,Na4,Qa5,exd4,Bd7,Nxd7,Nxd7,f5,Nf6,c5,b6', 'Bd2,Qxa4,Qxa4', 'https://lichess.org/training/iO8mT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Io90l', 'Rapid', 'yasinuymaz1', 1683, 'MuratPolatozkan1', 1679, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nc3,Be7,Nf3,Nf6,e5,Nd5,Bc4,O-O,Nxd5,exd5,Bxd5', 'Qa5+,Bd2,Qxd5', 'https://lichess.org/training/Io90l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iOaB8', 'Rapid', 'FerhatAcun', 1883, 'plouf14', 1901, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bg4,dxe5,dxe5,Bxc6+,bxc6,Nbd2,Bd6,O-O,Nf6,h3,Bxf3,Qxf3,O-O,b3,h6,Bb2,Re8,Nc4,Nd7,Rad1,Re6,Rd2,Qf6,Qxf6,gxf6,Rfd1,Nc5,Nxd6,cxd6,Rxd6,Nxe4,Rd8+,Rxd8,Rxd8+,Kg7,Rd7,a6,f3,Nc5,Ra7,Rd6,Ba3,Rd1+,Kh2,Ne6,Rxa6,Rd2,Rxc6,Nd4,Rc7,Nxf3+,Kg3,Nd4,Bc1', 'Ne2+,Kf3,Nxc1', 'https://lichess.org/training/iOaB8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOAd7', 'Rapid', 'Helmovic', 1638, 'sasha-sasha', 1666, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,Qxd4,Nf6,e5,dxe5,Bxf7+,Kxf7,Ng5+,Kf8,Qxe5,Nc6,Ne6+,Bxe6,Qxe6,Nd4,Qc4,Bb4+,Qxb4+,Kf7,Qc4+,Kg6,O-O,Re8,Qd3+,Kf7,Be3,c5,Bxd4,cxd4,Qc4+,Kf8,Rd1,Rc8,Qb4+,Kg8,Na3,a5,Qxb7,Rb8,Qf3,Rxb2,Nc4,Rxc2,Ne5,Rxe5', 'Qb3+,Rd5,Qxc2', 'https://lichess.org/training/IOAd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iObSK', 'Blitz', 'Romanovac', 2043, 'nele_993', 1931, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,Nf6,Bf4,c6,h3,O-O,a3,a5,Bc4,Na6,O-O,Nc5,Qe2,Bd7,e5,dxe5,Bxe5,b5,Ba2,b4,Nxc6,Bxc6,axb4,axb4,Nb5,Ne8,Nd4,Bb7,Rfd1,Qb6,Bxg7,Nxg7,Qxe7,Qg6,g4,Rfe8,Nf5,Nxf5,Qxc5,Nh4,Qc7,Qe4', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/iObSK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IODFF', 'Classical', 'RamsayBolton84', 2095, 'vimperial', 1955, 'e4,d5,exd5,Nf6,c4,e6,d4,exd5,Nc3,Be7,Nf3,O-O,cxd5,Nxd5,Bc4,Nf6,O-O,Nc6,h3,Bf5,Re1,a6,Ne5,Nxd4,Be3,Nc2,Qf3,Nxe1,Qxf5,g6,Nxf7,gxf5,Nxd8+,Kh8,Ne6,Nc2,Rd1,Nxe3,fxe3,Rfc8,Nd5,Nxd5,Rxd5,b5,Bd3,c5,Bxf5,Ra7,e4,Bf6,Nxc5', 'Rxc5,Rxc5,Bd4+,Kf1,Bxc5', 'https://lichess.org/training/IODFF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOEaB', 'Blitz', 'arturr09', 1579, 'Gem0', 1570, 'e4,c5,Nf3,e6,Bc4,a6,a3,Nc6,O-O,Qc7,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bb3,d5,exd5,cxd5,Bg5,Be7,Nd2,Bb7,Nf3,h6,Bh4,Ne4,c3,g5,Bg3,Nxg3,fxg3,f6,Nd4,Bc5,Rxf6,Bxd4+,Qxd4,Ke7,Rg6,Rhf8,Qg7+,Kd6,Qxh6,Qf7,Qxg5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/IOEaB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iOGcn', 'Blitz', 'mate-hollai', 1797, 'Juonar', 1897, 'Nf3,d5,c4,d4,b4,e6,Bb2,Bxb4,Bxd4,Nf6,e3,O-O,Be2,Nc6,Bb2,Bd6,O-O,e5,d4,e4,Nfd2,Nb4,Qb3,Nd3,Bxd3,exd3,Qxd3,Ng4,h3,Nh6,e4,Bf4,Rd1,Qg5,Nf3,Qg6,Kh1,Qh5,Nbd2,Bxh3,gxh3,Qxh3+,Kg1,Ng4,Nf1,Rfe8,e5,Re6,Ng5', 'Bh2+,Nxh2,Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/iOGcn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iogHJ', 'Rapid', 'sunint', 2077, 'mottza', 1775, 'e4,e5,f4,d6,Nf3,Nc6,d3,Nf6,c3,Be7,Be2,O-O,O-O,h6,f5,d5,Qc2,dxe4,dxe4,b6,Kh1,Bb7,Rd1,Qe8,Ng1,Bc5,Nh3,Ne7,Bf3,Qc6,Re1,Qb5,a4,Qc6,Na3,Bxa3,Rxa3,Rad8,b4,a6,Ra1,Qc4,Nf2,Nh7,Be2,Qc6,b5,axb5,axb5,Qc5,Nh3,Nf6', 'Ba3,Qxa3,Rxa3', 'https://lichess.org/training/iogHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOhSW', 'Rapid', 'Bagpipe', 1697, 'Tokoyami', 1695, 'd4,d5,Nc3,Nf6,Bf4,a6,e3,e6,Bd3,c5,dxc5,Bxc5,Nf3,Qb6,Na4,Qa5+,Nc3,Be7,O-O,O-O,Ne5,Nc6,Nxc6,bxc6,Be5,c5,Qf3,c4,Be2,Bb7,Qh3,Qd8,Rad1,Bd6,Bd4', 'e5,Bxe5,Bxe5', 'https://lichess.org/training/IOhSW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iOhwB', 'Classical', 'inTylerwetrust', 1965, 'iiivad', 1911, 'e4,c5,b3,d6,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,e5,Bb2,Ngf6,d3,b5,O-O,g6,Nc3,Nb6,Nxb5,Bg7,Nh4,Nh5,Qg4,O-O,Rae1,a6,Nc3,Nd7,Nd5,Ndf6,Nxf6+,Nxf6,Qh3,Nh5,Bc1,Bf6,Nf5,Ng7,Nxg7,Bxg7,f4,f6,fxe5,fxe5,Qe6+,Kh8,Rxf8+,Bxf8,Re3,Qe7,Qd5,Ra7,Rg3,Qf7,Qc6,Qb7,Qe8,Qe7,Qxe7,Rxe7,Bg5,Rf7,Rf3,Rxf3,gxf3,Kg7,f4,h6,Bd8,exf4,h4,Kf7,Kf2,Be7,Bxe7,Kxe7,Kf3,g5,hxg5,hxg5,c4,Kf6,a3,Ke5,b4,cxb4,axb4,Kd4,b5', 'axb5,cxb5,Kc5', 'https://lichess.org/training/iOhwB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iOhYn', 'Rapid', 'blopblop', 1694, 'tensplyr', 1716, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,Re1,O-O,h3,Nc6,c3,Na5,Bb3,Nxb3,axb3,a6,b4,Be6,Ng5,Bd7,Na3,Ne8,Nf3,h6,Nc4,Be6,b3,b5,Ne3,Nf6,Nd5,Nxd5,exd5,Bxd5,d3,Bf6,Bb2,Re8,c4,bxc4,bxc4,Be6,Nd2,Bf5,Nb3,Qb8,Bc3,Qb6,Kh1,Qxf2', 'Rf1,Qg3,Rxf5', 'https://lichess.org/training/iOhYn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iOi9j', 'Blitz', 'magnetic_mountain', 1965, 'Feritz11', 2026, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,e3,Nbd7,Be2,dxc4,Bxc4,b5,Be2,Bb7,O-O,a6,a4,Be7,axb5,axb5,Rxa8,Qxa8,Qb3,O-O,Na2,Qa7,Bd2,Ra8,Nc3,Qb6,Rc1,Bd6,h3,e5,dxe5,Nxe5,Nxe5,Bxe5,Bf3,Bb8,Ne2,Qc7,Ng3,h5,Kf1,h4,Ne2,Qh2,Ng1,Qh1,Bc3,Bh2,Ke2,Bxg1,Bxf6,gxf6,Qc3,Kg7,Qb4,Ra2,Qg4+,Kf8,Rc2,b4,Rd2,Ba6+,Kd1,Bxf2+,Kc2,b3+,Kxb3,Bc4+,Kc2,Bxe3', 'Rd8+,Ke7,Qd7#', 'https://lichess.org/training/iOi9j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOid6', 'Rapid', 'M_TAHA293', 2014, 'rapgame', 2152, 'Nf3,Nf6,g3,d5,Bg2,Nc6,O-O,e5,d3,Be7,Nc3,O-O,Re1,Bg4,Bg5,h6,Bxf6,Bxf6,e4,Ne7,Qd2,d4,Nd5,Nxd5,exd5,Re8,Re4,Bxf3,Bxf3,Qxd5,Rae1,Qb5,b3,Rad8,a4,Qc5,Bg4,Kh7,f4,Re7,h4,exf4,Qxf4,Rxe4,Qxe4+,Kg8,Re2,c6,Bf5,Qd5', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/IOid6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOjdS', 'Bullet', 'NM sockdolager64', 2143, 'TheCanaries', 2130, 'g3,d6,Bg2,e5,c4,f5,Nc3,Nf6,d3,Be7,e4,O-O,Nge2,c6,O-O,a5,h3,Na6,b3,h6,exf5,Bxf5,g4,Bh7,Ng3,Nc7,d4,exd4,Qxd4,Nd7,Bb2,Nc5,Nce4,Bf6,Nxf6+,Qxf6,Qxf6,gxf6,Rad1,Rad8,f4,f5,g5,hxg5,fxg5,f4,Nh5,Bg6,Nf6+,Rxf6,gxf6,N7e6,h4,Kf7,Rde1,d5,cxd5,cxd5,Rxe6,Nxe6,Rd1,d4,Bxb7,d3,Ba6,Nc5,Bc4+,Ne6,Bc3,a4,h5,Bf5,h6,axb3,axb3,Rh8,Bxd3,Bg4,Re1,Rxh6,Bc4,f3,Kf2,Rh2+,Kg3,Rg2+,Kh4,Bf5,Kh5', 'Rh2#', 'https://lichess.org/training/IOjdS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ioJQA', 'Rapid', 'Yogamanigandaprabhu', 2118, 'witchking69', 2125, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,d3,Qxd3,d6,Ng5,Nh6,Qd5,O-O,Bb5,Bb6,Ba3,Ng4,Nd2,Nce5,Ngf3,c6,Qxd6,cxb5,Nxe5,Nxe5,Qxf8+,Qxf8,Bxf8,Kxf8,Nb3,Be6,Rad1,Rc8,Nd4,Rxc3,Nxb5,Rc5,a4,Rc4,a5,Bxa5,Nxa7,Rxe4,Ra1,b6,Nb5,Re2,Nd4,Rd2,Nxe6+,fxe6,Rfe1,Rd5,Re2,Kf7,Rc1,Kf6,g3,b5,Rc6,Bd2,Rb6,Kf5,f4,Nc4,Rbxe6,b4,Re7,b3,Rxg7,Rb5', 'Rg5+,Kf6,Rxb5', 'https://lichess.org/training/ioJQA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ioKm7', 'Rapid', 'pratap3008', 1758, 'Mohsen3353', 1727, 'e4,Nc6,Nf3,e5,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,e5,Qe6,Bc4,Qg6,O-O,Qxc2,Qf4,Qg6,Nc3,c6,b4,a6,a4,Bxb4,Ne4,Ne7,Nd6+,Bxd6,exd6,Nf5,Re1+,Kd8,Qe5,Qf6,Bb2,Qxe5,Bxe5,f6,Bc3,Nxd6', 'Ba5+,b6,Bxb6#', 'https://lichess.org/training/ioKm7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IoKUJ', 'Blitz', 'k5roff', 1678, 'Louis-Wu', 1654, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,b4,Bb6,d3,a6,O-O,d5,exd5,Nxd5,Qb3,Be6,Ng5,O-O,Qc2,Bf5,a4,Nf4,Ne4,Qh4,Bxf4,exf4,Nbd2,Ne5,d4,Nxc4,Nxc4,f3,gxf3,c6,Nxb6,Rae8,Nd7,Bxe4,fxe4,Rxe4,Nxf8,Rg4+,Kh1,Qh3,Rg1', 'Qf3+,Rg2,Qxg2#', 'https://lichess.org/training/IoKUJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IoKUS', 'Rapid', 'hbeck', 2215, 'tedihard', 1989, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,f6,d4,exd4,Nxd4,c5,Nb3,Qxd1,Rxd1,Bd6,Na5,Ne7,Nc4,Be5,Nxe5,fxe5,Bg5,Be6,Bxe7,Kxe7,h3,Rad8,Nd2,b5,Nf3,Kf6,Kf1,g5,Ke2,h5,Rxd8,Rxd8,b3,Rd6,a4,b4,Rd1,Rxd1,Kxd1,g4,hxg4,hxg4,Nd2,Bf7,Ke2,Be6,Ke3,Bf7,f4,gxf3,gxf3,Kg5,Nf1,Be6,Ng3,Bd7,Ne2,Be6,Nc1,c4,bxc4,Bxc4,a5,c6,Nd3', 'Bxd3,Kxd3,Kf4,Kc4,Kxf3', 'https://lichess.org/training/IoKUS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iol8M', 'Rapid', 'Ulysse13', 1957, 'aheldar', 1917, 'c4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nf3,Nf6,O-O,O-O,e3,d6,d4,cxd4,Nxd4,Nxd4,exd4,Rb8,b3,Re8,Bf4,Bd7,c5,Qa5,Nd5,dxc5,Bxb8,Nxd5,Bxd5,Bxd4,Bf4,Bxa1,Qxa1,e6,Bh6,e5,f4,Qd2,Rd1,Qe3+,Kg2,Qe2+,Kh1,Bg4,Bg2', 'Qxd1+,Qxd1,Bxd1', 'https://lichess.org/training/iol8M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ION4d', 'Blitz', 'hanaka', 1505, 'Giorgiu3931', 1502, 'e4,e6,Bc4,b6,a3,Bb7,d3,d5,exd5,Bxd5,Bxd5,Qxd5,f3,Bc5,Ne2,Nf6,c4,Qd7,a4,a5,d4,Bd6,O-O,O-O,Qc2,c5,Nec3,cxd4,Nb5,Bc5,Kh1,d3,Qc3,Nc6,Nd2,Nb4,b3,Be3,Ne4,Nxe4,fxe4,d2,Bb2,f6,Qxe3,Nc2,Qg3,Nxa1,Bxf6,Rxf6,Rxf6,d1=Q+,Rf1,Qh5,Nd6,Qxd6,Qxd6,Nc2,Qxe6+,Kh8,Qd5,Ne3,Qxh5,Nxf1,Qd5,Rf8,g3', 'Ne3,Qd3,Rf1+,Qxf1,Nxf1', 'https://lichess.org/training/ION4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iOnmD', 'Rapid', 'gichana', 1708, 'Gvaeron', 1683, 'e4,c6,d4,d5,e5,Bf5,Be2,e6,Nf3,Bb4+,c3,Ba5,O-O,Ne7,Nbd2,O-O,b4,Bc7,Nb3,Nd7,Nh4,b6,Nxf5,Nxf5,a4,c5,bxc5,bxc5,Ba3,Re8,Nxc5,Ba5,Nb7,Qc7,Nxa5,Qxa5,Bb4,Qc7,a5,a6,Qc2,Rec8,Rfc1,f6,g4', 'Nxd4,cxd4,Qxc2,Rxc2,Rxc2', 'https://lichess.org/training/iOnmD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOO9T', 'Rapid', 'Shiva_Shankar', 1626, 'Christiaan1984', 1640, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,c6,e4,dxe4,Nxe4,Be7,Bc4,O-O,Bxf6,Bxf6,Nxf6+,Qxf6,Nf3,Re8+,Ne5,Be6,Bxe6,Rxe6,O-O,Rd6,Qb3,b6,Rac1,Nd7,f4,Rxd4,Rxc6,Rd6,Nxd7', 'Qd4+,Kh1,Rxc6', 'https://lichess.org/training/IOO9T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOpAP', 'Rapid', 'World-Loser', 2252, 'west1412', 1857, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,b6,f3,Bb7,Be3,d6,Qd2,Nbd7,Bd3,e5,Nge2,Qe7,g4,O-O-O,b4,Kb8,a4,h6,a5,g5,axb6,axb6,Qa2,Qe6,d5,Qe7,Nb5,h5,Bxg5,hxg4,fxg4,Bh6,Bh4,Rdg8,h3,Qf8,Bf2,Bg5,c5,dxc5,bxc5,Nxc5,Qc4,Nxg4,Ra7,Nxf2,Kxf2,Bh4+,Kf3,Qh6,Qa2,Qh5+,Ke3,Bg5+,Kf2,Nxd3+,Kg2,Qxe2+,Qxe2,Nf4+,Kf3,Nxe2,Kxe2,Rf8,Ra3,f5,Rg3,Bf4,Rg7,fxe4,Nxc7,Rhg8,Rhg1,Rxg7,Rxg7,Rh8,d6,Bc6,Na6+,Kc8,Nb4,Bd7,Nd5,Bh6,Re7,Bb5+,Ke1,Bf4,Nxb6+,Kd8,Ra7,Bc6,Rc7,Rxh3', 'Rc8#', 'https://lichess.org/training/IOpAP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOQCc', 'Rapid', 'PozharskyNikolay', 2255, 'Spart3', 2143, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Nd4,Bd3,Nxf3+,Qxf3,c6,Bc4,b5,Bb3,a5,d4,exd4,e5,dxc3,exf6,Qxf6,Qxf6,gxf6,a3,a4,Ba2,Rg8,O-O,d5,Re1+,Be6,bxc3,Kd7,Bb2,Bd6,c4,dxc4,Bxf6,Rg6,Bc3,Bxa3,Bxc4,Bxc4,Rxa3,c5,Raa1,b4,Be5,Re6,Rad1+,Kc6,f4,f6,Ba1,Rxe1+,Rxe1,a3,Bxf6,a2,Bb2,b3,cxb3,Bxb3,f5,Bc2,f6,Bb1,Ba1,Bf5,Rf1,Be6,Kf2,Ra3,Re1,Bf7,g4,Bd5,Re3,Ra4,Kg3,Kd6,g5,Be6,h3,c4,h4,Rb4,h5,Rb1,Be5+,Kc5,Ra3,Rg1+,Kf4,Rg4+,Ke3,Kd5,Ra5+,Kc6,Rxa2,Rxg5,Kd4,Rg4+,Kc3,Rg5,Ra6+,Kd5,Bf4,Rxh5', 'Ra5+,Ke4,Rxh5', 'https://lichess.org/training/IOQCc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ioqfm', 'Rapid', 'UrizK', 2097, 'RPanon', 1759, 'f4,d5,d4,Nc6,Nf3,Bf5,a3,Nf6,e3,e6,c4,Bd6,c5,Be7,b4,O-O,Nc3,Bg4,Bd3,a6,O-O,b5,Qc2,a5,Bxb5,axb4,Bxc6,Ra6,Bb5,Ra5,Nxd5,Rxb5,Nxf6+,Bxf6,axb4,Rxb4,Ba3,Rb8,Ne5,Bxe5,fxe5,Bf5,Qc4,Be4,Bb4,Bc6,Rf2,Bd5,Qc3,Rb5,h3,Qb8,Ba5,Rb3,Qc2,Qb5,Bxc7,Rc8,Bd6,Rd8,Qd2,Rb1+,Rxb1,Qxb1+,Rf1,Qg6,Qf2,Ra8,Rc1', 'Ra2,Qxa2,Bxa2', 'https://lichess.org/training/Ioqfm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOr57', 'Blitz', 'Powfive', 1563, 'haris1764', 1524, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,d6,Be6,Bxe6,Nxe6,Nxe6,fxe6,O-O,Bxd6,Nc3,e4,d4,O-O,d5,e5,Bg5,Be7,Bxf6,Bxf6,Nxe4,Be7,c4,Rf4,f3,Bg5,g3,Rf8,h4,Be7,Kg2,Bxh4,gxh4,Qxh4,Qe2,Rf4,Qf2,Qh6,Rh1,Qg6+,Qg3,Qf5,Raf1,Rf8,Qh3,Qg6+,Ng3,h6,Kg1,Qc2,Rh2,Qd3,Nh5,Qe3+,Rff2,R4f5,Qg4,Rg5,Qxg5,hxg5,Rg2,Rxf3,Rh2,Rxf2,Rxf2,Qc1+,Kg2,Qe3,Ng3,g4,Nf5,Qe4+,Kg3,Qxc4', 'Ne7+,Kh8,Rh2#', 'https://lichess.org/training/IOr57');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOR6M', 'Rapid', 'NPEREZ1027', 2160, 'andreilimar', 1813, 'e4,Nf6,Nc3,e5,d3,Nc6,Be2,Bc5,Nf3,d6,O-O,O-O,Na4,Bb6,Nxb6,axb6,a3,Bd7,c3,Ne7,Nh4,Bc6,g4,Nd7,g5,Ng6,Nf5,f6,h4,Ne7,Bg4,d5,gxf6,Nxf6,Bg5,Nxf5,Bxf5,dxe4,dxe4,Qxd1,Raxd1,Nxe4,Bxe4,Bxe4,Rd7,h6,Bc1,Rf7,Rxf7,Kxf7,Re1,Bc6,Rxe5,Rd8,Re1,Rd6,Bf4,Rg6+,Bg3,Rg4,Kh2,g5,hxg5,Rxg5,Kh3,Bd7+,Kh4,Rg4+,Kh5,Kg7', 'Re7+,Kf6,Rxd7', 'https://lichess.org/training/IOR6M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IORnH', 'Rapid', 'Telegraph', 1817, 'PadrePio', 1858, 'd4,e6,e4,d5,Nc3,Bb4,Bd3,dxe4,Bxe4,Nf6,Bf3,c5,Be3,cxd4,Bxd4,O-O,Ne2,Nbd7,O-O,e5,Be3,Qe7,Ne4,Nxe4,Bxe4,Nf6,Bd3,a6,c3,Bd6,Qc2,b5,Ng3,e4,Nxe4,Nxe4,Bxe4,Bb7,Bxh7+,Kh8,Bf5,g6,Bd4+,Kh7,Bh3,f6,Rae1,Qc7,g3,f5,Re6,Qc6,f3,Bc8,Rf6', 'Rxf6,Bxf6,Bc5+,Kh1,Qxf6', 'https://lichess.org/training/IORnH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ioRQP', 'Classical', 'Stromboli', 1803, 'michael12345', 1767, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,Nge7,Re1,Bc5,c3,d6,d4,a6,Bxc6+,Nxc6,dxc5,Bg4,cxd6,cxd6,h3,Bh5,Be3,Qf6,Nbd2,O-O-O,g4,Bg6,Bg5,Qe6,Bxd8,Rxd8,Kh2,h5,g5,f5,gxf6,Qxf6,Rg1,Qf4+,Kh1,Bxe4,Nxe4,Qxe4,Rxg7,Rf8,Kg2,Nd8,Rg3,Ne6,Qxd6,Nf4+,Kh2,Rd8,Rg8,Rxg8,Qc5+,Kb8,Qe3,Rg2+,Kh1,Qf5,Nh4,Qg5,Nf3', 'Rh2+,Nxh2,Qg2#', 'https://lichess.org/training/ioRQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IoScA', 'Blitz', 'vvladimir01', 1999, 'walterdelaplata', 1685, 'e4,e5,d4,exd4,c3,d5,exd5,Nf6,cxd4,Bb4+,Nc3,Nxd5,Bd2,O-O,Nxd5,Bxd2+,Qxd2,Qxd5,Nf3,Bh3,gxh3,Qxf3,Rg1,Re8+,Be2,Nc6,Kf1,Qxh3+,Rg2,g6,Bg4,Qh4,Bd7,Re4,Bxc6,bxc6,Rd1,Rae8,Qc3,Qh5,Qd3,Rxd4,Qxd4', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/IoScA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iosFI', 'Rapid', 'Ziadbar', 2051, 'STAR55', 2012, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d4,exd4,e5,Ne4,Bd5,f5,exf6,Nxf6,Re1+,Be7,Bb3,d5,Ba4,O-O,Bxc6,bxc6,Nxd4,c5', 'Nc6,Qd6,Nxe7+', 'https://lichess.org/training/iosFI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOsXU', 'Rapid', 'ARA9000', 1611, 'modhejie', 1740, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Qxe7+,Bxe7,Nc3,Bg4,Be2,Nbd7,Be3,O-O-O,Bxa7,b6,Nd4,Bxe2,Ncxe2,Kb7,Bxb6,cxb6,O-O,Rc8,a4,Nd5,Nf5,Bf6,Nxd6+,Kc7,Nxc8,Rxc8,c3,Nc5,d4,Nd3,Rab1,N3f4,Nxf4,Nxf4,g3,Nd5,Kg2,Ra8,Ra1,Kc6,f4,Ne7,Rfe1,Kd5,g4,h6,h4,Nc6,g5,hxg5,fxg5,Be7,Rf1,f6,gxf6,Bxf6,Kh3,Kc4,h5,Rh8,Kg4,Kb3,Rf2,Na5,Ra3+,Kc4,Rf5,Nb3,Rb5,Nd2,Rxb6,Ne4,a5,Be7,Ra4+,Kd5,a6,Nf6+,Rxf6,Bxf6,a7,Ra8,Kf5,Bg5,Kg6,Bh6,Kf5,Kc6,c4,Bc1,b4,Be3,d5+,Kb7,d6,Bxa7,d7,Rf8+,Kg6,Bd4,c5,Kc6,Ra7,Bf6,Ra6+,Kxd7,c6+,Kc7,Ra7+,Kxc6,Ra5,Bc3', 'Rc5+,Kb6,Rxc3', 'https://lichess.org/training/IOsXU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ioT0Y', 'Blitz', 'GM Enialios', 2662, 'NM AwareIdea', 2473, 'c4,d6,g3,g6,Bg2,Bg7,h4,Nf6,d4,O-O,Nc3,e5,d5,Nfd7,h5,f5,hxg6,hxg6,Nf3,Nc5,Bh6,Qf6,Qd2,Ne4,Nxe4,fxe4,Bxg7,Kxg7,Qh6+,Kf7,Ng5+,Ke8,Nxe4,Qf7,O-O-O,Na6,f4,exf4,Rdf1,Bf5,Rxf4,Qe7,g4,Kd7,gxf5,gxf5,Nd2,Rae8,e4,Nb4,Rxf5,Rxf5,exf5', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/ioT0Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iOtnV', 'Rapid', 'kleoj', 1949, 'minaxture', 1805, 'd4,d5,Bg5,h6,Bh4,f5,e3,Nc6,Qh5+,Kd7,Qxf5+,Ke8,Qh5+,Kd7,Qxd5+,Ke8,Qh5+,Kd7,Bb5,Nf6,Bxf6,gxf6,Nc3,a6,Qd5+,Ke8,Bxc6+,bxc6,Qxc6+,Bd7,Qf3,Qb8,O-O-O,Bg7,Qh5+,Kf8,Nf3,Qb7,Qd5,Bc6,Qb3,Qc8,e4,e6,d5,Bd7,dxe6,Bxe6,Qb4+,Kf7,Nd4,Rb8,Qc5,Bf8,Qc6,Rb6,Qa4,Qb7,Nb3,Rb4,Qa5,h5,Nd5,Rb5,Qxc7+,Qxc7,Nxc7,Rb6,Nxe6,Rxe6,Rd7+,Kg6,f3,Bg7,Rhd1,Rh7,Nd4', 'Bh6+,Kb1,Rxd7', 'https://lichess.org/training/iOtnV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IouX4', 'Blitz', 'fridegol', 2225, 'nmbm1', 2174, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Qc7,Qg4,Ne7,Qxg7,Rg8,Qxh7,cxd4,Ne2,Nbc6,f4,dxc3,Qd3,d4,Nxd4,Nxd4,Qxd4,Bd7,h4,Rd8,Rh3,Bb5,Bxb5+,Nc6,Qe4,Qb6,Bxc6+,bxc6,Qe3,Rd4,h5,Rxg2,Kf1,Rxc2,Qf3', 'Rd1+,Qxd1,Qf2#', 'https://lichess.org/training/IouX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IOV4s', 'Rapid', 'hugh_andero', 1696, 'psidd92', 1673, 'e4,e5,Bc4,Nf6,d3,h6,Nf3,Nc6,a3,a6,b4,b5,Ba2,d5,exd5,Nxd5,Bb2,f6,Nc3,Nf4,O-O,Bg4,h3,Bxf3,Qxf3,Qd7,Nd5,Rd8,Nxf4,exf4,Rae1+,Be7,Qxf4,Kf8,Re3,g5,Qe4,Re8,Rfe1,Kg7,c4,Bd6,Qf3,bxc4,dxc4,Bf4,Re4,Qd2,Bc1', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/IOV4s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iowQ9', 'Blitz', 'seefhoran', 1693, 'Maj-7th', 1564, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Be2,Nf6,O-O,O-O,Bg5,c6,c3,Nbd7,Nbd2,h6,Bh4,Qc7,h3,Nh7,Qc2,Ndf6,Bd3,g6,Rae1,Be6,Ne5,Bxe5,dxe5,Nh5,Bxg6,fxg6,Qxg6+,Ng7,f4,Rae8,Qxh6,Rf5,Bf6,Rh5,Qxg7+,Qxg7,Bxg7,Kxg7,Rf3,Rh8,g4,Rh4,f5,Bg8,Kg2,Ng5,f6+,Kf7,Rf5,Rxh3,Rxg5,Rh2+,Kf3', 'R8h3+,Kf4,Rf2+,Nf3,Rfxf3#', 'https://lichess.org/training/iowQ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ioxlx', 'Rapid', 'braq', 1770, 'hajizadeh', 1735, 'd4,Nf6,c4,d5,Bg5,e6,e3,h6,Bxf6,Qxf6,Nf3,Bb4+,Nc3,Bxc3+,bxc3,O-O,Qb3,Nc6,cxd5,exd5,Qxd5,Be6,Qe4,Bf5,Qf4,Rac8,Bb5,Ne7,O-O,Nd5,Qe5,Qxe5,Nxe5,Nxc3,Bc4,b5,Bd3,Bxd3,Nxd3,a5,Nc5,Rfe8,Kh1,c6,Nd7,Re7,Ne5,f6,Nd3,Ne4,Nc5,Nxc5,dxc5,Re5,Rac1,a4,Rfd1,Rd5,Rxd5,cxd5,f3,Kf7,Kg1,Ke6,f4,Kf5,Kf2,Ke4,c6,Rc7,g4,g6,h4,h5,gxh5,gxh5,Rc5,f5,Rxb5', 'Rxc6,Rb4+,Rc4', 'https://lichess.org/training/Ioxlx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iOxPo', 'Blitz', 'gmnofal', 2217, 'AliAyman127', 1946, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,e6,O-O,Nf6,Qe2,Be7,Rd1,Qc7,Bf4,e5,Be3,O-O,Rac1,a6,Bb3,Qa5,Bd2,Qd8,Be3,Bd7,Nd5,Rc8,Bb6,Qe8,Nc7,Qd8,Nd5,Qe8,a4,Nxd5,Bxd5,Bd8,Be3,Kh8,Nd2,f5,Nc4,Be7,Nb6,Rd8,Nxd7,Qxd7,exf5,Nb4,Be6,Qxa4,Rc4,Qb5,Qh5,d5,Rg4,d4,Rg3,dxe3', 'Qxh7+,Kxh7,Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/iOxPo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iozkG', 'Classical', 'laramonet', 1952, 'preAlpha59', 1820, 'd4,Nf6,Nf3,c5,d5,d6,Nc3,e5,e4,a6,a4,b6,Nd2,Be7,Bd3,Nbd7,O-O,O-O,b3,g6,Ne2,Rb8,g3,Nh5,Bb2,Bf6,Nc4,Qe7,f4,exf4,Bxf6,Ndxf6,Nxf4,Re8,Nxh5,Nxh5,Qf3,Ng7,Rae1,Bh3,Rf2,b5,axb5,axb5,Na3,Bd7,Qe2,f5,Nxb5,fxe4,Nc3,exd3', 'Qxe7,Rxe7,Rxe7,dxc2,Rxc2', 'https://lichess.org/training/iozkG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ip04f', 'Rapid', 'haleem', 1668, 'randomalbumtitle', 1674, 'e4,e5,f4,exf4,Nf3,Nf6,Bc4,Bc5,d4,Bb4+,c3,Ba5,O-O,O-O,Bxf4,Nxe4,Qc2,d5,Bd3,Re8,Ng5,Nxg5,Bxg5,Qxg5,Nd2,Bh3,Bxh7+,Kh8,Nf3,Qxg2+,Qxg2,Bxg2,Ng5,Bxf1,Nxf7+,Kxh7,Rxf1,Nd7,Ng5+,Kg6,h4,c6,Rf7,Rad8,Kf2,Kh5,Rxg7,Kxh4,Nf3+,Kh5,Rg5+,Kh6,Rg1,Rg8,Rh1+,Kg6,Nh4+,Kg7,Nf5+,Kf7,Rh7+,Ke8', 'Nd6+,Kf8,Rf7#', 'https://lichess.org/training/Ip04f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IP2S0', 'Rapid', 'umbunei', 1887, 'Caissandro', 1819, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,c4,Nb6,a4,a5,d4,cxd4,Nxd4,Nxe5,b3,e6,Bf4,Bb4+,Bd2,Bxd2+,Nxd2,d5,c5,Nbd7,Rc1,O-O,Bb5,Nf6,N2f3,Nxf3+,Nxf3,Bd7,Bxd7,Nxd7,O-O,Rc8,Qd4,Qe7,Rfe1,Nxc5,Qxd5,Rfd8,Qc4,Nd3', 'Qxc8,Nxe1,Nxe1,Rxc8,Rxc8+,Qf8,Rxf8+', 'https://lichess.org/training/IP2S0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ip4BV', 'Blitz', 'Lightning42', 2017, 'rose21', 2069, 'd4,Nf6,Bf4,e6,Nf3,d5,Nbd2,c5,e3,Nc6,c3,Be7,Bb5,h6,Ne5,Bd7,Qa4,Nxe5,Bxe5,Bxb5,Qxb5+,Nd7,Qxb7,Nxe5,dxe5,O-O,Qb3,d4,cxd4,cxd4,O-O,dxe3,Qxe3,Rb8,b3,Bg5,f4,Be7,Nc4,Rb5,Rad1', 'Bc5,Qxc5,Rxc5,Rxd8,Rxd8', 'https://lichess.org/training/ip4BV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IP5OG', 'Rapid', 'heudi', 1693, 'AlkaalmA', 1795, 'e4,e5,Nf3,f5,exf5,d6,Bc4,Bxf5,d3,Nc6,Ng5,Nh6,Qf3,Qd7,Be3,Be7,Ne4,O-O-O,Bxh6,gxh6,Bb3,Rhg8,Bxg8,Rxg8,O-O,Nd4,Qd1,Bh3,Ng3,Bg4,f3,Be6,c3,Nf5,Nxf5,Bxf5,g4,Be6,Nd2,d5,Qe2,Bc5+,Kh1,Qd6,Nb3,Bb6,Qd2,h5,d4,exd4,cxd4,hxg4,fxg4,Rxg4,Qf2,Kd7,Rae1,h5,h3,Rg3,Rxe6', 'Rxh3+,Kg1,Qxe6,Qf7+,Qxf7', 'https://lichess.org/training/IP5OG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IP9UZ', 'Rapid', 'lingtalfi', 2054, 'Kordi50', 2059, 'e4,d5,exd5,Qxd5,Nc3,Qa5,h3,c6,Nf3,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Nf6,O-O,Be7,Bd2,Qb6,b3,Nbd7,a4,Bb4,Ne4,Bxd2,Nfxd2,Nxe4,Nxe4,O-O,Ng5,Nf6,a5,Qc7,b4,a6,c3,h6,Nf3,Qf4,Ne5,Rad8,Rfe1,Qg5,Re3,Nd5,Rg3,Qe7,Ng4,Qh4,Qe4,Rde8,Rf3', 'f5,Nxh6+,Qxh6', 'https://lichess.org/training/IP9UZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iPaFK', 'Classical', 'GiorgioPro', 1836, 'franceasdonor', 1763, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,Nd7,Ng5,Ndf6,Bc4,e6,N1f3,h6,Nh3,Ne7,Ne5,Nf5,c3,Be7,O-O,Nd7,Nxf7,Kxf7,Qh5+,g6,Bxe6+,Kxe6,Qxg6+,Nf6,Re1+,Kd6', 'Bf4+,Kd7,Qxf5+', 'https://lichess.org/training/iPaFK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IPbu1', 'Blitz', 'gonka_koroley', 1645, 'Lloh', 1685, 'd4,Nf6,c4,g6,Nc3,Bg7,e3,d6,h4,h5,Be2,Nc6,Nf3,Bd7,a3,a6,Ng5,Bh6,e4,Bg4,d5,Ne5,f3,Bd7,f4,Neg4,g3,c6,Qd3,cxd5,cxd5,e6,Nd1,Nh7,Nf2,f6,Nxg4,hxg4,Nxh7,Rxh7,dxe6,Bxe6,f5,gxf5,Bxh6,Rxh6,exf5,Bf7,O-O,Qb6+,Kh2,O-O-O,Bxg4,Kb8,b4,Rg8,Rf4,d5,Kh3,Qd6,Raf1,Bh5,Bxh5,Rxh5,Qf3,Rgh8,Qf2,R5h7,Kg2,Rg7,Qd4,Rxh4,Rxh4', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/IPbu1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iPCZ6', 'Rapid', 'PETROZ99', 1700, 'dineshloi', 1805, 'd4,d5,g3,Nf6,Bg2,e6,Nf3,c5,O-O,cxd4,Nxd4,Bc5,b3,O-O,Bb2,Nc6,Nxc6,bxc6,Re1,Ng4,Bd4,Bb6,e4,e5,Bxb6,axb6,exd5,cxd5,Qxd5,Ba6,Qxa8,Qf6,Qf3,Qg5,h4,Qg6,Bh3,Bc8,Bxg4,Bxg4,Qd3,Bf5,Qc3,Qg4,Qxe5,Qh3,Qf4,g6,g4,Qxh4,Kg2,Bxg4,Rh1', 'Bh3+,Rxh3,Qxf4', 'https://lichess.org/training/iPCZ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ipDch', 'Blitz', 'mecker', 2391, 'LM Bad4life', 2426, 'e4,c5,Nf3,d6,c3,Nf6,h3,Nc6,Bd3,d5,Bc2,dxe4,Ng5,Qd5,h4,h6,Nh3,Bg4,Bb3,Qd6,Qc2,Ne5,Nf4,Nd3+,Nxd3,exd3,Bxf7+,Kxf7,Qb3+,Be6,Qxb7,Qe5+,Kf1,Qe2+,Kg1,Bd5,Qc7,Qe1+,Kh2,Qe4,f3,Qxh4+,Kg1,Qe1+,Kh2,Qf2,Qg3,Qxg3+,Kxg3,e5,b3,Bd6,Kf2,e4,Na3,Rhf8,Nb5,Bb8,Ba3,exf3,gxf3,Kg8,Bxc5,Ne4+,Ke3,Nxc5,Kd4,Bxf3,Kxc5,Bxh1,Rxh1,Rf5+,Kb4,a6,Nd4,Bd6+,Kc4,Rc8+,Kxd3,Rg5,a4,Rg3+,Kc2,Rg2,Rf1,Be5,Nf3,Bf4,b4,Rd8,b5,Bxd2,Kb3,axb5,axb5,Be3,Ne5,Rg3,Nc6,Rd5,c4,Rd3+,Kb4,Bb6,Rb1,Rg5,Rc1,Kh7,c5,Bxc5+,Rxc5,Rb3+,Kc4,Rc3+,Kxc3,Rxc5+,Kb4,Rc1,b6,h5,Kb5,h4', 'b7,h3,b8=Q,Rb1+,Nb4', 'https://lichess.org/training/ipDch');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ipDrq', 'Blitz', 'Eskut', 1531, 'Necrosjef', 1628, 'e4,c5,Nf3,e6,Nc3,Nf6,d4,cxd4,Nxd4,Nc6,Nb3,d5,exd5,Nxd5,Nxd5,exd5,Bb5,Bb4+,c3,Bc5,Nxc5,Qb6,Bxc6+,Qxc6,Nd3,O-O,O-O,Bf5,Ne5,Qf6,Re1,Rfe8,Nf3,Bg4,Rxe8+,Rxe8,Bg5,Qf5,Be3,Bxf3,Qxf3,Qc2,Qxd5,Qxb2,Rc1', 'Qxc1+,Bxc1,Re1#', 'https://lichess.org/training/ipDrq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ipeDi', 'Rapid', 'ronvio', 1825, 'anand1973', 1855, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c4,c5,Nc3,dxc4,Bxc4,a6,d5,exd5,Bxd5,Qc7,O-O,Nc6,Bf4,O-O-O,Qb3,Nge7,Bxf7,Kb8,Rad1,Ka8,h3,g6,Be6,Bg7,Bxf5,gxf5,Qf7,Rhg8,Nd5', 'Nxd5,Qxc7,Nxc7', 'https://lichess.org/training/ipeDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IpFBU', 'Rapid', 'EymenGuler', 1915, 'M-Ensar2013', 2072, 'e4,c6,d4,d5,e5,e6,Nc3,Bb4,Nf3,Ne7,Bd3,O-O,Ng5,Ng6,O-O,h6,Nf3,Nd7,Be3,c5,Qd2,cxd4,Nxd4,Kh7,Nf3,Qc7,Bf4,b6,Rfe1,Bb7,Nh4,d4,Qe2,dxc3,bxc3,Bxc3,Qh5,Bxa1,Nxg6,fxg6,Qxg6+,Kg8,Qh7+,Kf7,Bg6+,Ke7,Qxg7+,Kd8,Rd1,Qc6,Qxf8+,Kc7,Qd6+,Qxd6,exd6+,Kc6,Rxa1,Kc5,Be3+,Kxd6,Rd1+,Ke7,Bxh6,Rg8,Bg5+,Nf6,Bxf6+,Kxf6,Bh5,Rxg2+,Kf1,Rxh2,Bg4,Rh1+,Ke2,Ba6+,Kd2,Rxd1+,Kxd1,e5,Be2,Bxe2+,Kxe2,e4,Ke3,Ke5,c4,a6,a3,b5,cxb5,axb5,f3', 'exf3,Kxf3,Kd4,Ke2,Kc3', 'https://lichess.org/training/IpFBU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ipFCw', 'Rapid', 'Limacerta25', 1642, 'Neil901', 1632, 'g3,c5,Bg2,Nc6,Nf3,d6,Nc3,e5,e4,Nf6,d3,h6,O-O,Be6,Be3,g6,Qd2,Bg7,Nb5,O-O,c3,a6,Na3,b5,d4,Nxe4,Qd3,Nf6,Nd2,Qc7,f4,exd4,cxd4,cxd4,Bxc6,Qxc6,Bxd4,Bh3,Rf3,Bg4,Rf2,Bf5,Qc3,Qd5,Bxf6,Rac8,Qf3', 'Qxf3,Nxf3,Bxf6', 'https://lichess.org/training/ipFCw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IpgUx', 'Rapid', 'speedlearn', 1619, 'india25', 2051, 'd4,d5,Nf3,Nf6,c3,e6,Bg5,Be7,Qc2,O-O,Nbd2,c5,e4,dxe4,Nxe4,cxd4,Nxd4,a6,O-O-O,Qc7,Nxf6+,Bxf6,Bxf6,Qf4+,Kb1,Qxf6,Bd3,g6,h4,b5,h5,Bb7,f3,Nd7,hxg6,fxg6,Rde1,Nc5,Be4,Nxe4,fxe4,Rac8,Qd2,Rfe8,e5,Qg7,Rh6,Rc5,Qg5,a5,Reh1,Qxe5,Qxe5,Rxe5,Rxh7,Be4+,Kc1,Bxg2', 'Rh8+,Kg7,R1h7+,Kf6,Rxe8', 'https://lichess.org/training/IpgUx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ipgy5', 'Rapid', 'Tambov-Russia', 1839, 'Sayedmadkor', 1840, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Bc4,e6,Nf3,Nf6,Bg5,Be7,O-O,Nbd7,h3,O-O,Ne2,Nb6,Bd3,Nfd5,Bxe7,Qxe7,c4,Nf6,Qc2,g6,Rfe1,Qd8,b4,a6,Ne5,Nbd7,Rad1,Nb6,Nf4,Rb8,c5,Nbd5,Nxd5,Nxd5,a3,Kg7,Qd2,Bd7,Nc4,Bc8,Nd6,Nc7,Bc4,Nd5,Bxd5,exd5,Qf4,Be6,Re3,Qf6,Rf3,Qxf4,Rxf4,Rfd8,Re1,Rd7,Re3,Rc7,g4,Rf8,h4,h6,g5,hxg5,hxg5,Rh8,Kg2,Rh5,Rg3,Rh8,Rgf3,Rh5', 'Ne8+,Kf8,Nxc7', 'https://lichess.org/training/Ipgy5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iPhOn', 'Classical', 'MOE415', 1785, 'fitoshroder', 1679, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Bd3,Bxc3,dxc3,d6,Bg5,O-O,Nd2,Bg4', 'Bxf6,Bxd1,Bxd8', 'https://lichess.org/training/iPhOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iPHzd', 'Rapid', 'KPRahodia', 2265, 'MrShooko', 2167, 'c4,c5,g3,g6,Bg2,Bg7,e3,Nf6,Ne2,O-O,Nbc3,d6,O-O,Nc6,a3,a5,Rb1,Qc7,Nd5,Nxd5,cxd5,Ne5,d4,Nd7,dxc5,Nxc5,b4,axb4,axb4,Bf5,bxc5,Bxb1,cxd6,Qxd6,e4,Rfc8,Bf4,Qb4', 'Qxb1,Qxb1,Rxb1', 'https://lichess.org/training/iPHzd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IpIf1', 'Rapid', 'hkilicaslan', 1982, 'Dr-Dang', 1911, 'd4,Nf6,Bf4,e6,e3,c5,Nf3,cxd4,exd4,b6,c3,Bb7,Nbd2,d5,Bb5+,Nbd7,Qa4,a6,Bc6,b5,Bxd7+,Qxd7,Qc2,Bd6,Ne5,Bxe5,Bxe5,O-O-O,O-O,Qc6,Nb3,Rhg8,Nc5,Nd7,Nxb7,Kxb7,Bg3,f6,a4,Ra8,Qb3,Qc4,Qa3,e5,Qe7,Qc7,a5,Rae8,Qf7,Ref8,Qxd5+,Ka7,Rfd1,Rd8,Qe4,Qb7,Qe3,h6,b4,exd4,Qxd4+,Ka8,Re1,Ne5,Qe3,Nc4,Qf3,Qxf3,gxf3,Nd2,Kg2,g5,Red1,Nc4,Rd4,Rxd4,cxd4,Kb7,Rd1,Rd8,h4,Rd5,hxg5,hxg5,f4,Kc6,Kf3,Nb2,Rd2,Nc4,Rd3,Nb2,Rc3+,Nc4,Ke4,g4,f5,Rd7,Bh4,Re7+,Kf4,Kd5,Bxf6,Re4+,Kg3,Kd6,Bg7,Kd7,f6,Ke6,d5+,Kf7,Rd3,Nd6,Rb3,Nf5+,Kg2,Nxg7,fxg7,Kxg7,d6,Rd4,Rg3,Kf6,d7,Ke7,Re3+,Kxd7,Rb3,Kd6,Kg3,Kd5,Kh4,Kc4,Rb1,Rf4,Kg3,Rd4,Kh4,Kc3,Kg5,Kd3', 'Rd1+,Kc3,Rxd4,Kxd4,Kxg4,Kc3,f4', 'https://lichess.org/training/IpIf1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IPin8', 'Classical', 'Julio_Gomes', 1602, 'ELSON10', 1600, 'e4,Nc6,Nf3,Nf6,e5,Nd5,Nc3,e6,Nxd5,exd5,a3,Qe7,d4,h6,Bb5,a6,Ba4,d6,O-O,Bd7,Re1,Be6,Bxc6+,bxc6,Qe2,c5,c3,c4,exd6,Qxd6,Ne5,Be7,Bf4,Qb6,b3,cxb3,Rab1,a5,Nxf7,Kxf7,Rxb3,Qa6,Qh5+,g6,Qf3,Ke8,Bxc7,Rc8,Be5,Rf8,Qe3,Bg5,Bf4,Kd7,Bxg5,hxg5,Reb1,Rc7', 'Rb6,Qxb6,Rxb6', 'https://lichess.org/training/IPin8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iPjd6', 'Rapid', 'Twins', 1957, 'wadymus', 1925, 'd4,e6,Bf4,b6,Nf3,Bb7,e3,h6,Bg3,Nf6,Nbd2,Nh5,Be5,d6,Bg3,Nxg3,hxg3,Nc6,Bb5,a6,Bd3,Nb4,Be2,Bd5,a3,Nc6,c4,Bxf3,Bxf3,d5,cxd5,exd5,Qc2,Qd6,O-O,Ne7,Rfc1,Rc8,Qb3,h5,Kf1,h4,gxh4,Rxh4,Ke2,Qe6,Qa4+,b5,Qc2,Rxd4,Nb3,Rc4,Qd2,Rxc1,Rxc1,c6,Nc5,Qe5,Nxa6,Nf5,Nc5,Bxc5,Rxc5,Kd7,Qc2', 'Nd4+,Kd1,Nxc2', 'https://lichess.org/training/iPjd6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IPjlm', 'Rapid', 'dincheff', 1801, 'diegol10', 1884, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Be3,e5,Nf3,Nbd7,Qd2,Re8,O-O-O,Nh5,Bh6,Bh8,Kb1,Nf4,g3,Ne6,d5,Nec5,Bg5,Nf6,h4,Bg4,Be2,Ncd7,Nh2,Bxe2,Qxe2,Bg7,h5,h6,hxg6,hxg5,gxf7+,Kxf7,Ng4,Nc5,Nxf6,Qxf6,Qe3,g4,Rh5,Ke7,Nb5,Kd7,Rf5,Qe7,f4,a6,Nc3,Rf8,Rg5,Rh8,Rf1,exf4,gxf4,Rh3,Qe2,Rah8', 'Qxg4+,Kd8,Rxg7', 'https://lichess.org/training/IPjlm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IPjVE', 'Blitz', 'magdygogo', 1544, 'romulopires', 1607, 'e4,e6,Nf3,c5,g3,Be7,Bg2,h6,O-O,Nf6,d3,O-O,Bf4,d6,c3,e5,Be3,Ng4,Bc1,f5,h3,Nf6,Nbd2,f4,g4,Nh7,Qb3+,Kh8,Nc4,Be6,Qxb7,Nd7,Qa6,Nb6,Nxb6,axb6,Qb5,Bd7,Qb3,Ba4,Qd5,Nf6,Qc4,b5,Qe6,b4,g5,Bd7,Qb3,Ba4,Qc4,d5,exd5,Nxd5,Nxe5,f3,Ng6+,Kh7,Nxf8+,Qxf8,Qe4+,Kh8,Bxf3,Bc6,c4,Rd8,Qe6,Nf4,Qxc6,Nxh3+,Kg2,Nxg5,Bxg5,Bxg5,Bd5,Qf4,Qe6,Bf6,Rae1,Qg5+,Kf3,Rf8,Ke2,Qh5+,Bf3,Qg5,Kd1,Bxb2,Be4', 'Qc1+,Ke2,Qc2+,Ke3,Bd4#', 'https://lichess.org/training/IPjVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IPLJZ', 'Rapid', 'Zagor2000', 1900, 'Niceguy_in', 1871, 'e3,c5,b3,e6,Bb2,d5,h3,Nf6,Nf3,Nc6,Be2,Be7,d3,O-O,O-O,b5,Nbd2,a6,a3,Bb7,c4,dxc4,dxc4,bxc4,Nxc4,Rb8,Be5,Nxe5,Ncxe5,Nd5,Bc4,Bf6,Qc2,h6,Nd3,e5,Nxc5,e4,Rad1,exf3,gxf3,Qc8,Bxd5,Bxd5,Rxd5,Qxh3,f4,Rbc8,b4,Qg4+,Kh1', 'Qf3+,Kh2,Qxd5', 'https://lichess.org/training/IPLJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ipm4N', 'Rapid', 'crown85', 1786, 'zazlee', 1615, 'e4,Nf6,Nc3,b6,h3,Bb7,e5,Nd5,Nxd5,Bxd5,Nf3,d6,Bd3,Bxf3,Qxf3,c6,Bb5,Qc7,exd6,Qxd6,d3,g6,Bf4', 'Qb4+,Kf1,Qxb5', 'https://lichess.org/training/Ipm4N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ipm6V', 'Rapid', 'DemetriousJohnson', 1825, 'criss12', 1836, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,c4,Nf6,Nc3,a6,Be2,Nc6,O-O,Nd4,Qh3,Bb4,Rd1,Bxc3,bxc3', 'Nxe2+,Kf1,Qxd1#', 'https://lichess.org/training/Ipm6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iPMlF', 'Classical', 'ichhasseviktor', 1769, 'JaCe87', 1763, 'Nf3,Nf6,d4,d5,c4,c6,Bg5,Bf5,e3,e6,cxd5,cxd5,Nc3,Be7,Bb5+,Nc6,Ne5,Qc7,Qa4,Rc8,Qxa7,O-O,Nxc6,bxc6,Qxc7,Rxc7,Be2,h6,Bh4,c5,dxc5,Rxc5,O-O,Rb8,Na4,Rc7,b3,Rb4,Rac1', 'Rxc1,Rxc1,Rxh4', 'https://lichess.org/training/iPMlF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iPn5n', 'Rapid', 'mootez_CM', 2020, 'Furesalim22', 1976, 'Nf3,d5,c4,Nf6,Nc3,d4,Nb5,Nc6,d3,e5,g3,a6,Qa4,Bb4+,Bd2,Bxd2+,Nxd2,Bd7,Na3,O-O,Bg2,Qe7,O-O,Qd6,Rac1,Nb4,Qb3,c5,Bxb7,Rab8,Bg2,a5,Ne4,Nxe4,Bxe4,a4,Qd1,Nxa2,Rb1,f5,Bd5+,Kh8,Re1,f4,Bf3,fxg3,hxg3,Rb3,Nb5,Bxb5,cxb5,Rxb5', 'Qxa4,Nc3,bxc3,Rxb1,Rxb1', 'https://lichess.org/training/iPn5n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iPnQ2', 'Classical', 'aliyasin2000', 1996, 'kemaa', 2018, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Be2,Bf5,d3,Nbd7,Nh4,Bg6,Nxg6,hxg6,Bf3,O-O-O,Bd2,Qb6,a4,a6,O-O,Ne5,a5,Qd6,Bf4,Nxf3+,Qxf3,e5,Bg3,g5,Ne4,Nxe4,Qxe4,f6,Ra4,Qc5,Rb4', 'Qxb4,Qxb4,Bxb4', 'https://lichess.org/training/iPnQ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IpOyU', 'Classical', 'antsizedant', 1868, 'JoaoBrasil', 1824, 'd4,g6,c4,e6,Nc3,c5,e3,Qa5,Bd2,cxd4,exd4,Bb4,a3,Bf8,Nf3,Qd8,Qb3,Bg7,Rd1,Nf6,d5,exd5,cxd5,O-O,Bc4,Qe7+,Be3,d6,O-O,Ng4,Rfe1,Nxe3,Rxe3,Qc7,Nb5,Qc5,Rde1,Bd7,Nxd6,Qxd6,Qxb7,Nc6,dxc6,Bxc6,Qe7,Qxe7,Rxe7,Bxf3,gxf3,Bxb2,a4,Bd4,Kg2,Rab8,Rd1,Bb6,h4,Rbc8,Bb5,Rc7,Rdd7,Rxd7,Rxd7,h5,Kg3,Kg7,f4,Kf6,Rd5,Bc7,Kf3,Ke6,Ke4,Bxf4', 'Bd7+,Ke7,Kxf4', 'https://lichess.org/training/IpOyU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ipq6i', 'Classical', 'Zenga', 2014, 'ol-_dr', 1859, 'e4,d5,e5,Nc6,d4,e6,a3,f6,Nf3,fxe5,Bb5,exd4,Nxd4,Bd7,Bxc6,bxc6,O-O,Bc5,Be3,Qf6,b4,Bb6,c3,e5,Nb3,Ne7,Bxb6,cxb6,f4,e4,N1d2,Qxc3,Qh5+,g6,Qh4,e3,Rac1,Qb2,Rb1,Qc2,Rfc1,Qf5,Nf3,Qg4,Qf6,Rf8,Qd6,Qxf4,Ne5,Rd8,Rf1,Bg4,Qc7,Rd7,Qb8+,Rd8,Rxf4,Rxb8,Rxf8+,Kxf8,Nxg4,Nf5,Re1,Re8,g3,d4,Nc1,c5,bxc5,bxc5,Nf6,Re7,Nd5,Re5,Nf6,Ke7,Ng4,Re6,Nd3,c4,Nf4,Re4,Kg2,h5,Nd5+,Kd6,Ngf6,Re6,Kf3,c3,Nxc3,dxc3,Ne4+,Kd5,Nxc3+,Kc4,Ne2,Nd4+,Nxd4,Kxd4,Rd1+,Kc3,Ke2,Ra6,Rd3+,Kb2,Kxe3', 'Rxa3,Rxa3,Kxa3', 'https://lichess.org/training/Ipq6i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IPqam', 'Rapid', 'iliveincoto5464', 1901, 'vincentclos', 1943, 'e4,f6,Nf3,b6,d4,Nc6,Bc4,e6,e5,Bb7,O-O,d5,Bb5,a6,Bxc6+,Bxc6,exf6,Nxf6,Ne5,Bb5,Re1,Ne4,Qh5+,g6,Nxg6,Nf6,Rxe6+,Kf7,Ne5+,Kxe6,Qf7+,Kd6,Bf4,Qe7', 'Ng6+,Kd7,Nxe7', 'https://lichess.org/training/IPqam');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IpqeP', 'Rapid', 'mavroudis', 1845, 'MAGAMEDOV', 1870, 'g4,Nf6,h3,b6,Bg2,Nc6,d4,Bb7,g5,Nh5,e4,g6,d5,Ne5,Nf3,Bg7,Nxe5,Bxe5,Nc3,O-O,Be3,Nf4,Bxf4,Bxf4,Qg4,Be5,h4,Bg7,h5,h6,gxh6,Bxh6,hxg6,Bg7,gxf7+,Rxf7,Qh5,e6,O-O-O,exd5,exd5,Rxf2,Qh7+,Kf8,Be4,Qg5+,Kb1,Qf6,Rhg1,Re8,Rg6,Qe5,Bh1,Re7,Qh4,Qf5,Rxg7', 'Qxc2+,Ka1,Qxb2#', 'https://lichess.org/training/IpqeP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iPRHG', 'Rapid', 'mnemy', 2037, 'GrdoviciArilje', 1963, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Nc6,Nxc6,bxc6,Bg5,Be7,Bc4,O-O,Qd2,Be6,Bb3,d5,exd5,Nxd5,Bxe7,Qxe7,O-O-O,Nxc3,Qxc3,Bxb3,axb3,c5,Rhe1,Qg5+,Qe3,Qxg2,Qxc5,Qxh2,Re7,a5,Rxc7,a4,bxa4,Rxa4', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/iPRHG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iPtiB', 'Rapid', 'Salminger', 1876, 'KasparsB', 1740, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bg4,Ne5,Bh5,Qb3,Qb6,c5,Qxb3,axb3,Nbd7,Nxd7,Nxd7,b4,e5,e3,exd4,exd4,Be7,Bd3,O-O,O-O,Bf6,Be3,Rfe8,b5,Nf8,bxc6,bxc6,Ra6,Ne6,Ra4,Reb8,Rb1,Bg6,Bxg6,hxg6,Ne2,Rb3,Ra6,Rab8,Ra2,R3b4,g3,Nxd4,Nxd4,Bxd4,Bxd4,Rxd4,Rxa7,Rc4,Ra5,Rb5,Rxb5,cxb5,b4,f5,Kg2,Kf7,h4,Ke6,Kf3,Ke5,Rb2,Kd4,Rd2+,Ke5,Rb2,Rc3+,Ke2,Kd4,f3,Ke5,Kf2,f4,g4,d4,Re2+,Kd5,Re4,Rb3,Rxf4,Rxb4,Ke2', 'd3+,Kxd3,Rxf4', 'https://lichess.org/training/iPtiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IptqG', 'Blitz', 'dinara10', 2008, 'boddino', 2071, 'd4,d5,c4,e6,Nc3,c5,e3,Nf6,cxd5,exd5,Bb5+,Nc6,Nf3,a6,Bxc6+,bxc6,Ne5,Qc7,O-O,Bd6,f4,O-O,Bd2,cxd4,exd4,Bb7,Rc1,c5,Ne2,Qb6,Be3,Ne4,dxc5,Qxb2,c6,Bxe5,cxb7,Rab8,fxe5,Rxb7,Qxd5,Qxe2,Qxb7,Qxe3+,Kh1,Nf2+,Rxf2', 'Qxc1+,Rf1,Qxf1#', 'https://lichess.org/training/IptqG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IPX23', 'Rapid', 'yuli123', 1732, 'FLF1999', 1971, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be3,Bb4,Be2,Bxc3+,bxc3,Qxc3+,Kf1,Nf6,Nf3,Nc6,e5,Nxe5,Nxe5,Qxe5,Bd4,Qc7,Bxf6,gxf6,Bf3,d5,Rb1,b6,g3,Bb7,Qd4,Qc4+', 'Qxc4,dxc4,Bxb7', 'https://lichess.org/training/IPX23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IPxjC', 'Blitz', 'DorelBumba', 1807, 'Howdo', 1906, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nf6,Bg5,h6,Bxf6,gxf6,c4,b4,Nc2,a5,Nce3,h5,Bd3,Nd4,O-O,Be7,Nxe7,Qxe7,Nd5,Qd8,f4,Bg4,Qa4+,Kf8,fxe5,fxe5,Rf2,Ra7,Raf1,Rg8,Kh1,Be6,Nf6,Rg6,Nxh5,Qh4,Nf6,Rh6,h3,Bxh3', 'Qe8+,Kg7,Qg8#', 'https://lichess.org/training/IPxjC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iPXsR', 'Rapid', 'Saltstraumen', 1665, 'michielmertens', 1702, 'd4,e6,c4,d5,e3,Nf6,Nf3,Nc6,Bd3,Bd7,O-O,Bd6,Nc3,O-O,cxd5,Nxd5,e4,Nxc3,bxc3,e5,dxe5,Nxe5,Nxe5,Bxe5,Bb2,Qh4,g3,Qf6,Rb1,Bh3,Re1,Bxc3', 'e5,Qe6,Bxc3', 'https://lichess.org/training/iPXsR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ipXup', 'Rapid', 'BoboJones92', 1993, 'Tchingizid', 1987, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,a6,O-O,e6,Qe2,Qc7,Bf4,Be7,Rac1,Bd7,Bb3,Qb8,Rfd1,Nf6,e5,Nh5,Be3,d5,Nxd5,exd5,Bxd5,O-O,Ng5,Bxg5,Bxg5,g6,Bh6,Ng7,Qf3,Qxe5,Bf4,Qf5,Be4,Qg4,Qe3,Nf5,Bxf5,Qxf5,Bh6,Rfe8,Qc3,Ne5,f4,Rac8,Qd4,Qg4,Rxc8', 'Nf3+,Kh1,Nxd4', 'https://lichess.org/training/ipXup');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IPyOh', 'Rapid', 'gtaivan', 2123, 'MarcoAlvarado_URP', 2105, 'd4,f6,e4,e6,Be3,Ne7,Nd2,d5,f3,Nbc6,c3,g6,Bd3,Bg7,Qe2,O-O,O-O-O,e5,h3,exd4,cxd4,dxe4,fxe4,Nxd4,Qf2,c5,Bc4+,Kh8,Ngf3,Nec6,Nb3,Qc7,Bd5,f5,Kb1,fxe4,Bxe4,Nxb3,axb3,Bf5,Bxf5,Rxf5,g4,Rf7,Qg2,b6,Ng5,Rd7,Qf2,Rf8,Qh4,Bf6,Rhf1,Rxd1+,Rxd1,Qe5,Bc1,Bxg5,Bxg5,Nb4,Bh6,Qe4+,Ka1,Qc2,Qe1,Qxb3,Qe5+,Kg8', 'Qg7#', 'https://lichess.org/training/IPyOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQ2gj', 'Rapid', 'bigrtyn', 1750, 'Greybeard23', 1765, 'e4,c5,Nf3,g6,Nc3,Bg7,Bc4,Nc6,a3,d6,O-O,Nf6,h3,O-O,d4,cxd4,Nxd4,Nxd4,Qxd4,Ng4,Qd3,Ne5,Qe2,Nxc4,Qxc4,Be6,Qd3,Rc8,Bd2,Bc4,Qe3,Bxf1,Rxf1,a6,Qf3,b5,Rd1,e6,g3,Qd7,h4,h5,g4,hxg4,Qxg4,Qe7,h5,Qf6,Bg5,Qe5,hxg6,f6,Bf4,f5,exf5,Qxf5,Qxf5,Rxf5,Bxd6,Rg5+,Kf1,Rxg6,Bb4,Rc4,Ke2,Rcg4,Rd6,e5,Rxg6,Rxg6,Nd1,Re6,c3,Bf8,Bxf8,Kxf8,Ne3,Kf7,f3,a5,Nd5,Rd6,Ne3,Rh6,Kd3,Rh3,Ke4,Ke6,b4,a4,c4,bxc4,Nxc4,Rh4+,Kd3,Rd4+,Kc3,Kf5,Nb2,Rf4,Nxa4,Rxf3+,Kc4,e4,Nc3,Rxc3+', 'Kxc3,Kf4,Kd2,Kf3,Ke1', 'https://lichess.org/training/IQ2gj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iq36p', 'Classical', 'Black7sabbath', 1688, 'Hidayat69', 1678, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Be2,Nf6,O-O,d5,Nxd5,Nxe4,Nc3,Bg4,d3,Bxf3,Bxf3,Nxc3,bxc3,Qd6,Be4,O-O,Qh5,f5,Bxf5,Rxf5,Qxf5,Rf8,Qg4,Ne7,Bh6,Qxh6,Rae1,Qf6', 'Qc4+,Rf7,Qxc5', 'https://lichess.org/training/iq36p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iQ65L', 'Rapid', 'Maxometr', 2171, 'pak_belalang', 2197, 'g4,d5,Bg2,Bxg4,c4,c6,cxd5,cxd5,Qb3,Bd7,Bxd5,e6,Bxb7,Nc6,Bxa8,Qxa8,Nf3,Nd4,Qd3,Nxf3+,exf3,Ne7,Nc3,Ng6,Qe3,Nh4,Ke2,Nf5,Qf4,Bd6,Qg4,h5,Qg2,Nd4+,Kd1,Bc6,Ne4,Be5,d3,Bd5,Be3,Qc6,Rc1,Qa4+,b3,Qa6,Bxd4,Qxd3+,Ke1,Bxd4,Rd1', 'Bc3+,Nxc3,Qxc3+', 'https://lichess.org/training/iQ65L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iQ7zR', 'Rapid', 'speedlearn', 1711, 'A_FanaT_A', 1981, 'd4,Nf6,Nf3,e6,Bg5,d5,Nbd2,c5,c3,c4,Qc2,Nc6,e4,h6,Bh4,g5,Bg3,dxe4,Nxe4,Nxe4,Qxe4,Bg7,Bxc4,Qb6,O-O-O,Na5,Bd3,f5,Qe2,f4,Bxf4,gxf4,Bg6+,Ke7,Rhe1,Kd8,Ne5,Kc7,Nc4,Nxc4,Qxc4+,Qc6,Qb4,Bf8', 'Qa5+,Qb6,Qe5+', 'https://lichess.org/training/iQ7zR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iq8ea', 'Rapid', 'geer2', 1992, 'pnikolic', 1983, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be7,O-O,O-O,Re1,h6,Bf4,c6,Qd2,Ne4,Bxe4,dxe4,Rxe4,Bf5,Re5,Bg6,Nc3,Bf6,Re2,Nd7,Rae1,Qa5,Ne5,Nxe5,dxe5,Be7,Bxh6,gxh6,Qxh6,Rad8,Re3,Rd4', 'Rh3,Rh4,Rxh4,Bxh4,Qxh4', 'https://lichess.org/training/iq8ea');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iq8jz', 'Rapid', 'Valent71', 1823, 'bat_defense', 2107, 'e4,c5,Nf3,d6,h3,Nf6,Nc3,a6,a4,Nc6,Bc4,e6,O-O,Be7,Re1,Qc7,d3,Bd7,Bf4,Nh5,Bh2,O-O-O,Ne2,g5,g4,Ng7,Qd2,h5,Nxg5,hxg4,Nxf7,Rxh3,Nxd8,Rxh2,Kxh2,d5+,Qf4', 'Bd6,Kg2,Bxf4', 'https://lichess.org/training/iq8jz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iq9Xz', 'Rapid', 'citizenT', 1664, 'Fritzmann', 1664, 'e4,c5,Nc3,g6,Nf3,Bg7,Bc4,Nc6,O-O,d6,d3,Nf6,Bg5,O-O,Qd2,a6,Nd5,Nxd5,Bxd5,Qc7,Bh6,Rd8,Bxf7+', 'Kxf7,Ng5+,Kg8,Bxg7,Kxg7', 'https://lichess.org/training/iq9Xz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQali', 'Rapid', 'sp1987', 1736, 'saltbeef', 1741, 'c4,Nf6,Nc3,c5,g3,Nc6,Bg2,g6,d3,Bg7,Nf3,d5,cxd5,Nxd5,O-O,Nxc3,bxc3,Bxc3,Rb1,Bg7,Ng5,Qc7,Qb3,O-O,Bd5,e6,Bg2,Nd4,Qd1,Rb8,Bb2,Bd7,e3,Nc6,Bxg7,Kxg7,Qg4,h5,Qc4,Ne5,Qc3,Kg8,f4,Ng4,Rbe1,b5,a3,b4,axb4,Rxb4,e4,Rfb8,h3,Rb3,Qc2,Ba4,Qe2,Rb2,Qf3,Nf6,f5,exf5,exf5,Bc6', 'Qxc6,Qxc6,Bxc6', 'https://lichess.org/training/IQali');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQB2e', 'Bullet', 'DamaRoja150', 1828, 'Reinasofia', 1587, 'e4,c5,Nc3,g6,Nge2,Bg7,g3,e6,Bg2,Ne7,O-O,O-O,d3,Nbc6,f4,a6,h3,b5,a3,Bb7,g4,d5,Ng3,Nd4,Nce2,dxe4,dxe4,Nxe2+,Qxe2,Qc7,f5,Qxg3,f6,Nc6,fxg7,Kxg7,Bf4,Qh4,Rad1,Nd4,Be5+,Kg8,Bxd4,cxd4,Rxd4,Rad8,Rfd1,Rxd4,Rxd4,Qg5,Qd2,Qf6,c3,Kg7,e5,Qe7,Bxb7,Qxb7,Qf4,Kg8,h4,Qe7,h5,Qh4,hxg6,fxg6,Qd2,Qg3+,Qg2,Qe1+,Kh2,Rf2,Rd8+,Kg7,Rd7+,Kh6', 'g5+,Kh5,Rxh7#', 'https://lichess.org/training/IQB2e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iqb2U', 'Rapid', 'gavlna', 1972, 'DivadLank', 2027, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,e5,c4,Qe4+,Be3,exd4,Nxd4,Nxd4,Nc3,Nc2+,Kd2,Bb4,Qxc2,Bf5', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/iqb2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iqb7w', 'Rapid', 'Chelz2020', 2268, 'greekgrilllover', 2003, 'e4,c6,Nf3,d5,Nc3,Bg4,h3,Bh5,d4,e6,a3,Nf6,Bg5,Qa5,Bd2,Qb6,Na4,Qd8,e5,Nfd7,Be2,c5,c3,a6,b4,c4,Nc5,b6,Nxd7,Qxd7,a4,Nc6,O-O,Be7,Re1,O-O,Nh2,Bxe2,Qxe2,b5,axb5,axb5,Qg4,f5,exf6,Rxa1', 'Qxg7#', 'https://lichess.org/training/iqb7w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQCec', 'Classical', 'taooo', 1645, 'gorvihas', 1777, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,e6,h3,Nf6,Ng3,Bxd3,Qxd3,Qd5,Nf3,c5,b3,Nc6,c4,Qd7,Be3,e5,d5,Nb4,Qd2,Nbxd5,cxd5,Qxd5,Qxd5,Nxd5,Nxe5,Nxe3,fxe3,Bd6,O-O-O,Bxe5,Ne4,b6,Rhf1,O-O,Rd7,f6,Rfd1,f5,Ng5,Bf6,Ne6,Rfe8', 'Nc7,Rab8,Nxe8', 'https://lichess.org/training/IQCec');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQClG', 'Rapid', 'Alexan1978', 1683, 'vinccz', 1623, 'b3,e5,Bb2,Nc6,e3,a6,Qh5,Nf6,Qd1,Be7,g3,d5,Bg2,O-O,h3,b5,Nf3,h6,Bxe5,Nxe5,Nxe5,Qd6,f4,Ne4,Bxe4,dxe4,Nc3,Bb7,a3,Bf6,Ng4,Bxc3,dxc3,Rad8,Qxd6,Rxd6,O-O,Rd2,Rac1,Re2,Rfe1,Rd2,Red1,Rfd8,Rxd2,Rxd2,Kf1,f6,b4,Bd5,Nf2,Bc4+,Kg1,f5,h4,Kf7,Rd1,Rxc2,Rd7+,Kg6,Rxc7,Rxc3,Ra7,Rxa3,Kg2,Kh5,Rxg7,Rxe3,Re7,Re1,Re5,Bf1+,Kh2,Kg6,g4,fxg4,Nxg4,Re2+,Kg1,Rg2+,Kxf1,Rxg4,Rxe4,Rxh4', 'f5+,Kxf5,Rxh4', 'https://lichess.org/training/IQClG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iqcOU', 'Blitz', 'Atakanada', 1643, 'Vikilin', 1682, 'e4,Nc6,Nf3,e5,Bb5,d6,O-O,Bd7,c3,a6,Ba4,Nf6,d4,Nxe4,dxe5,Nxe5,Bxd7+,Nxd7,Re1,f5,Bg5,Be7,Bxe7,Qxe7,Nd4,O-O,Nd2,Qg5,Nxe4,fxe4,Ne6,Qg6,Nxf8,Rxf8,Rxe4,Ne5,Qe2,Rf5,Re1,Rg5,g3,h6,f4,Rxg3+,hxg3,Qxg3+,Qg2,Nf3+,Kh1', 'Qh4+,Qh3,Qxh3#', 'https://lichess.org/training/iqcOU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQdCv', 'Rapid', 'Niixx', 1759, 'Xa88', 1876, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,d3,Qxe5,c3,Nc6,Qf3,Qf6,Bf4,Bd6,Bxd6,Qxf3,gxf3,cxd6,Na3,Ne5,Bb3,Nxd3+,Ke2,Nf4+,Ke3,Ne6,Nb5,a6,Nxd6+,Ke7,Nf5+,Kf8,Bxe6,dxe6,Nd4,Nf6,Rad1,Ke7,f4,Ng4+,Kf3,e5,Nf5+,Bxf5,exf5,Nf6,fxe5,Nh5,Rd2,g6,Rhd1,Rad8', 'f6+,Ke6,Rxd8,Rxd8,Rxd8', 'https://lichess.org/training/IQdCv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iQFcP', 'Blitz', 'yoki1925', 2040, 'jjww', 2039, 'c4,e5,e3,Nf6,a3,Nc6,Nf3,d6,d4,exd4,exd4,Be7,Bd3,Bg4,h3,Bxf3,gxf3,O-O,Be3,g6,Nc3,Nh5,Qd2,Bf6,Be4,Ng7,O-O-O,a6,f4,Na5,Qe2,c6,b4,Nb3+,Kc2,Na5,bxa5,Qxa5,Kb3,b5,Bxc6,bxc4+,Qxc4,Rab8+,Ka2,Rfc8,Rc1,Ne6,d5,Nd8,Bd4,Nxc6,dxc6,Bxd4,Qxd4,Rxc6,Ne4,Rxc1,Rxc1,Qb5,Nf6+,Kf8,Qxd6+,Kg7,Qd4', 'Qb3+,Ka1,Qxa3#', 'https://lichess.org/training/iQFcP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iQFeK', 'Classical', 'Predaptor', 1648, 'Ultimopeon', 1917, 'e4,e6,Nf3,d5,Nc3,d4,Nb1,c5,d3,Nf6,c3,Nc6,e5,Ng4,Bf4,f6,Qe2,fxe5,Nxe5,Ngxe5,Bxe5,Nxe5,Qxe5,Qb6,b3,Bd7,Be2,O-O-O,Nd2,Bd6,Qg5,dxc3,Nc4,Qc7,Nxd6+,Qxd6,O-O,h6,Qe3,Bc6,Rac1,Qd5,Bf3,Qd6,Rxc3,Bxf3,Qxf3,b6,Rfc1,Rhf8,Qe3,Kb8,Rd1,e5,Rdc1,a5,a3,Qd4,Rc4,Qxe3,fxe3,Rxd3,R4c3,Rd2,Rf1,Rxf1+,Kxf1,Kc7,h3,Kc6,g3,Kd5,Ke1,Rh2,h4,Rg2,Kf1,Rxg3', 'e4+,Kxe4,Rxg3', 'https://lichess.org/training/iQFeK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iQFPa', 'Rapid', 'RYATUGIN5', 1780, 'f-you', 1653, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Nf3,Qb6,a4,Nge7,O-O,Nf5,Bxc6,Bxc6,a5,Qa6,Re1,Bb5,Be3,b6,b4,cxd4,Nxd4,Nxe3,Rxe3,Bc4,Nd2,b5,N2b3,Qc8,a6,Rb8,Na5,Rb6,Nb7,Be7,f4,O-O,g4,h6,Qe1,Qc7,h4,g6,f5,exf5,gxf5,Bd8,f6,Qb8,h5,Bc7,hxg6,fxg6,Qg3,Kh7,Nd6,Rg8,f7,Rf8,Rf1,Bxf1,Kxf1,Rxa6,Ne8,Qxe8,e6,Bxg3,Rxg3,Ra1+,Kg2,Rd1,fxe8=Q,Rxe8,Rf3,Rd2+,Kg3,Re7,Re3,a6,Nc6,Re8,e7,Rd1,Rf3,Kg7,Kf2,Rd2+,Ke3,Rh2,Kd4,Rh5,Kc5,Rf5,Rd3,Kf7,Kd6,h5,Kd7,h4', 'Nd8+,Kf6,Kxe8', 'https://lichess.org/training/iQFPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iQGOI', 'Blitz', 'IM rehbwf', 2582, 'shae11', 2594, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,g6,Be2,Bg7,O-O,O-O,h3,dxe5,Nxe5,c5,c4,Nc7,Be3,Ne6,Ng4,cxd4,Bh6,Nc6,Bxg7,Kxg7,Bf3,h5,Nh2,Ne5,Na3,Nf4,Re1,Nxf3+,Nxf3,d3,Qd2,Qd6,Nb5,Qf6,Nc7,Rb8,Nd5,Nxd5,cxd5,Bxh3,Qxd3,Bf5,Qe3,Rfd8,Rad1,e6,d6,Qxb2,Ne5,Qb6,Qc3,f6', 'Qc7+,Qxc7,dxc7', 'https://lichess.org/training/iQGOI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQGx5', 'Rapid', 'Voyager_TR', 1845, 'AbuTammam', 1737, 'd4,d5,c4,dxc4,Bf4,e6,Nf3,Nc6,e3,Nf6,Bxc4,Bb4+,Nc3,O-O,a3,Be7,h3,a6,b4,b5,Bd3,Bb7,O-O,Nb8,Ne5,Nbd7,Nxd7,Qxd7,e4,Qxd4,Rc1,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Bxc7,Rac8,Bg3,Rfd8', 'Rxc8,Rxc8,Qd7,Qc2,Qxe7', 'https://lichess.org/training/IQGx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQIaH', 'Rapid', 'maextsai', 1823, 'My_new_f18i5n4', 1960, 'd4,d5,Bf4,e6,e3,Nf6,Nf3,Bd6,Bg3,O-O,Bd3,b6,c3,Re8,Nbd2,Bb7,O-O,Ne4,Nxe4', 'dxe4,Bxe4,Bxe4', 'https://lichess.org/training/IQIaH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iqIgh', 'Rapid', 'forge82', 1991, 'Pavel_Kislov', 1839, 'd4,e5,dxe5,Nc6,Nf3,Bc5,c3,h6,e4,Nge7,Be3,Bxe3,fxe3,Ng6,Bb5,Ncxe5,Nxe5,Nxe5,O-O,O-O,Nd2,c6,Ba4,Qb6,Bb3,Qxe3+,Kh1,b5,Nf3,Nd3,Qc2,Nc5,Ne5,d5,Rae1,Qg5,exd5,Nxb3,Qxb3,cxd5,Qxd5,Be6,Qxb5,Rab8,Qe2,Bxa2,Nd7,Rfe8', 'Qxe8+,Rxe8,Rxe8+,Kh7,Nf8+', 'https://lichess.org/training/iqIgh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IqikQ', 'Classical', 'Bunksi', 1924, 'MYCHESSWAY', 2083, 'd4,b6,g3,Bb7,Nf3,e6,Bg2,Be7,b3,h5,Bb2,d5,Nbd2,h4,Ne5,Nd7,Ndf3,h3,Bf1,Nxe5,Nxe5,c5,e3,Nf6,Bb5+,Kf8,f3,Qc7,Qd2,c4,bxc4,a6,Ba4,dxc4,c3,b5,Bc2,a5,e4,a4,Qf4,b4', 'Ng6+,fxg6,Qxc7', 'https://lichess.org/training/IqikQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQjqa', 'Blitz', 'IM Shukh_Nikolay', 2529, 'hamidebh001', 2470, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,d6,Bc4,Nc6,O-O,Nf6,Qe2,Be7,Rd1,Qc7,Bf4,e5,Bg5,Be6,Bxf6,Bxf6,Bxe6,fxe6,Nb5,Qb6,Nxd6+,Ke7,Nc4,Qc7,Rac1,Rhd8,Qe3,Rxd1+,Rxd1,Rd8,Rc1,Qd7,h4,Nd4,Qa3+,Ke8,Nxd4,Qxd4,Qa4+,Kf7,Qb3,Bxh4,Qxb7+,Kg6,Ne3', 'Bxf2+,Kxf2,Qd2+', 'https://lichess.org/training/IQjqa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IqmE1', 'Blitz', 'coboli', 1931, 'Sergej1974', 1880, 'e4,d6,d4,Nd7,Nf3,e5,Nc3,Be7,Be2,Ngf6,O-O,O-O,a4,a6,a5,b6,axb6,cxb6,Bd3,Qc7,h3,Bb7,Bd2,b5,Re1,Rac8,d5,Nc5,Nh4,g6,Nf3,Nxd3,cxd3,Kg7,Rc1,Qd7,d4,exd4,Nxd4,Ng8,Nce2,Bf6,Bc3,Rfe8,Qd3,Rc7,Ng3,Rec8,Qd2,h5,Nxh5+,gxh5,Nf5+,Kf8,Bxf6,Rxc1,Qg5,Rxe1+,Kh2,Qxf5', 'Qg7+,Ke8,Qxg8+,Kd7,Qxf7#', 'https://lichess.org/training/IqmE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQNxO', 'Classical', 'splufold', 1788, 'RTarhealer', 1892, 'e4,e5,Bc4,Nc6,Nf3,Nf6,O-O,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb6,Ba3,d6,e5,Ng4,exd6,O-O,dxc7,Qxc7,Bxf8,Kxf8,h3,Bxd4,hxg4,Bxa1,Na3,Bb2,Nb5,Qf4,Bd5,Bxg4,Bxc6,bxc6,Nxa7,c5,Qd5,Bxf3,gxf3,Qb8,Qxc5+,Kg8,Rd1,Bf6,Nc6,Qc7,Qd5,Qb7', 'Ne7+,Qxe7,Qxa8+', 'https://lichess.org/training/IQNxO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQpbS', 'Blitz', 'Timila', 2070, 'ElifzADe', 1892, 'Nc3,d5,e4,d4,Nce2,c5,Ng3,e5,Nf3,Nc6,Bb5,Bd6,Bxc6+,bxc6,d3,h6,Nd2,Ne7,b3,O-O,O-O,f5,exf5,Nxf5,Nde4,Be7,a4,a6,Qe2,Be6,Bd2,Nxg3,fxg3,Bf5,Rae1,Bxe4,Qxe4,Qd7,Qxe5,Rxf1+,Kxf1,Rf8+,Kg1,Bf6,Qe6+,Qxe6,Rxe6,Rc8,g4,Kf7,Re4,Rc7,g3,g5,Kg2,Re7,Rxe7+,Kxe7,Kf3,Ke6,Ke4,Bg7,h4,Bf6,Bc1,Be7,Ba3,gxh4,gxh4,Kd6,Kf5,Bxh4,Bc1,Bg3,Bxh6,Ke7,Bf4,Be1,Kg6,Ke6,Kh7,Bh4,g5,Kf5,Bc1,Bxg5,Bxg5', 'Kxg5,Kg7,Kf4,Kf7,Ke3,Ke6,Kd2,Kd6,Kxc2', 'https://lichess.org/training/IQpbS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iqPKp', 'Rapid', 'alexander1951', 1751, 'dheitkam', 1709, 'e4,e6,g3,d5,Bg2,Nf6,c3,dxe4,Bxe4,Nxe4,Qa4+,Nc6,Qxe4,Be7,Nf3,O-O,O-O,h6,d4,Bf6,Nbd2,Ne7,Ne5,Rb8,Ng4,Bg5,Nf3,Bxc1,Raxc1,b6,h4,Bb7,Qd3,Qd5,Kg2,Ng6,c4,Qd7,Kh2,e5,Ngxe5,Nxe5,Nxe5,Qe6,Rce1,Qf6,Nd7', 'Qc6,d5,Qxd7', 'https://lichess.org/training/iqPKp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IqSiJ', 'Classical', 'mklp2050', 1931, 'eminich', 1963, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Nf3,e6,Bg5,h6,Bh4,g5,Bg3,Nbd7,Bd3,Nh7,Bc2,e5,d5,a5,Na4,b6,Qd2,Ndf6,Nc3,Nh5,Bh2,Bh8,Ba4,f5,Bc6,Rb8,O-O-O,f4,Nb5,Rf7,Ne1,Nf8,Nc2,Nd7,Bxd7,Bxd7,Nca3,Nf6,f3,Bg7,Bg1,Bf8,Bf2,Rh7,g4,fxg3,Bxg3,Nh5,Qg2,c6,dxc6,Bxc6,h4,Nf4,Bxf4,exf4,hxg5,Rg7,g6,Qg5,Qxg5,hxg5,Nxd6,Rxg6,Nab5,Rd8,Nf5,Rxd1+,Rxd1,g4,Rg1,g3,Kd2,Bxb5,cxb5,g2,Nh4,Bb4+,Kd3,Rd6+,Kc4,Kf7,Rxg2,Be1,Nf5,Rd1,Rg1,Ke6,Nd4+', 'Rxd4+,Kxd4,Bf2+,Kc3,Bxg1', 'https://lichess.org/training/IqSiJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQsL9', 'Blitz', 'EtozheRusik', 1589, 'bearpigman', 1614, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bf5,Nc3,e6,Bf4,Bb4,Qd2,Nf6,a3,Ba5,b4,Bb6,Ne5,Nbd7,Bb5,O-O,Nxd7,Nxd7,Bd3,Bxd3,Qxd3,Nf6,h4,Nh5,Be5,f6,g4,fxe5,gxh5,Qf6,O-O-O,e4,Qg3,Qxf2,Qe5,Qf4+,Qxf4,Rxf4,Ne2,Rf3,h6,g6,Ng1,Rf2,Nh3,Rf3,Ng5,Rf6,Rdf1,Raf8,Rxf6,Rxf6,c3,a5,Kc2,axb4,axb4,Bc7,Ra1,Bf4', 'Ra8+,Rf8,Rxf8+,Kxf8,Nxe6+,Ke7,Nxf4', 'https://lichess.org/training/IQsL9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQSXF', 'Rapid', 'sapfir58', 1807, 'gc02', 1845, 'f4,d5,d4,e6,Nf3,c5,e3,Nc6,Bb5,Ne7,Bd2,a6,Bxc6+,Nxc6,O-O,Be7,a3,cxd4,exd4,O-O,Nc3,b5,Ne2,Bf6,c3,Be7,Ne5,Qb6,Rf3,f6,Nd3,e5,fxe5,fxe5,Rxf8+,Bxf8,Be3,Bg4,h3,Bf5,Nb4,Nxb4,axb4,Bd6,Qe1,Bd3,Nc1,e4,Nxd3,exd3,Qd2,Qc7,Rf1,Qc4,Qf2,Rf8,Qd2', 'Bh2+,Kxh2,Rxf1', 'https://lichess.org/training/IQSXF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iqTHE', 'Blitz', 'Acron3141', 1513, 'nooby23', 1513, 'e3,e5,d4,exd4,a4,dxe3,Bxe3,Bb4+,c3,Ba5,Qe2,Ne7,Nf3,O-O,g3,d6,Bg2,Nbc6,O-O,Bg4,b4,Bb6,a5,Bxe3,Qxe3,Ne5,Nxe5,dxe5,Qxe5,Ng6,Qe4,f5,Qxb7,Rc8,Nd2,Be2,Rfe1,Qxd2,Bd5+,Kh8,Ra2,Qxa2,Bxa2,Rce8,Qxa7,Bf3,Rxe8,Rxe8,Kf1,Ne5,Qxc7,Ng4,Bf7', 'Nxh2+,Kg1,Re1+,Kxh2,Rh1#', 'https://lichess.org/training/iqTHE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iqtp7', 'Rapid', 'Groznyi', 1811, 'Dontfret', 1902, 'e4,e5,Nf3,Nf6,d4,c5,dxe5,Nxe4,Bd3,d5,exd6,Nxd6,O-O,Be7,Nc3,Be6,Re1,a6,Bf4,b5,b3,Nd7,Qd2,h6,Bxd6,Bxd6,Be4,Ne5,Bxa8', 'Nxf3+,Bxf3,Bxh2+,Kxh2,Qxd2', 'https://lichess.org/training/iqtp7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IqtZM', 'Rapid', 'c_or_cpp', 1796, 'BlackerKnight', 1805, 'd4,d5,c4,e6,Nc3,c6,Nf3,b6,Bg5,Be7,Bxe7,Qxe7,e3,Nf6,Bd3,Nbd7,O-O,a5,a3,Ba6,cxd5,cxd5,Rc1,Bxd3,Qxd3,O-O,h3,Nh5,Rfd1,f5,Ne2,Nhf6,Nd2,Ne4,Nxe4,fxe4,Qb5,Rad8,Nf4,Qf6,Rc7,Rf7,Rf1,g5,Nh5,Qf5,Ng3,Qg6,Qc6,h5,Rc8,Rxc8,Qxc8+,Kg7,Qc1,h4,Ne2,g4,Nf4', 'Rxf4,exf4,gxh3,g3,hxg3', 'https://lichess.org/training/IqtZM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IqUaA', 'Classical', 'Dessa32', 1865, 'mariomm', 1772, 'd4,Nc6,e4,Nf6,Nc3,d5,e5,Ne4,Nxe4,dxe4,Bb5,Qd5,c4,Qd7,d5,a6,Qa4,axb5,Qxa8,Nxe5,c5,Nd3+,Kf1,Qf5,f3,exf3,Nxf3,e5,dxe6,Qxe6,Bf4,Nxf4', 'Re1,Kd8,Rxe6', 'https://lichess.org/training/IqUaA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iQuxn', 'Rapid', 'woicetweak', 1884, 'miguelangel22', 1930, 'e4,e6,d4,Ne7,c4,Ng6,Nc3,a6,Nf3,Nh4,Bd3,Nxg2+,Kd2,Nh4,Kc2,Ng6,a3,d6,h4,Be7,h5,Nf8,h6,g6,e5,Nfd7,Be3,dxe5,dxe5,Nc5,Ne1,Ncd7,Qf3,Bg5,Bd4,c5,Ne4,cxd4', 'Nd6+,Ke7,Qxf7#', 'https://lichess.org/training/iQuxn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iqv8I', 'Blitz', 'bbh', 1891, 'GeorgeZimmerman', 2040, 'e4,e5,Bc4,Nc6,f4,exf4,Nf3,g5,O-O,Bg7,c3,h6,d4,d6,b4,Nf6,b5,Ne7,Qb3,O-O,Nbd2,d5,exd5,Nexd5,a4,Nb6,Ba3,Nxc4,Nxc4,Re8,Rae1,Be6,Nfe5,Nd5,Qc2,a6,b6,Nxb6,Nd2,Nd5,Ne4,Ne3,Rxe3,fxe3,Nc5,Bxe5,dxe5,Qd2,Qb1,b6,Ne4,Qd8,Nf6+,Qxf6,Rxf6,Rad8,Rxh6,c5,Qh7+,Kf8,Qh8+,Ke7,Qf6+,Kd7,Qf3,Kc7,Qxe3,Rd1+,Kf2,Red8,Bxc5,R8d2+,Kg3,Rd3,Bxb6+,Kb7,Kf2,Rxe3,Bxe3,Rd3,a5,Rxc3,Bb6,Rc2+,Kg3,Bd5,h4', 'Rxg2+,Kh3,g4#', 'https://lichess.org/training/iqv8I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQvfh', 'Rapid', 'andolo', 1667, 'AhmedElhfney', 1874, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nf3,Nf6,h3,O-O,O-O,Be6,Be3,c6,c3,Nbd7,Nbd2,Qc7,Qc2,Rfe8,Ng5,h6,Ngf3,Nf8,c4,dxc4,Nxc4,Bf4,Rfe1,b5,Nce5,Bxe3,Rxe3,Rac8,Qc5,Nd5,Ree1,Nf4,Rac1,Bd5,Bf5,N8e6,Bxe6,Rxe6,Re3,Rce8,Qxb5,Qxe5,Nxe5,cxb5,b3,Nxg2,Rg3,Nh4,Rc7,Rxe5,dxe5,Rxe5,Re3,Rg5+,Kf1,Bg2+,Ke2,Nf5,Rd3,Rg6,Rxa7,Re6+,Kd2,Nd6,f3,Bxh3,Ra8+,Kh7,Rd8,Nb7,R8d5,Bf1,Re3,Rxe3,Kxe3,Na5,Kf2,Bh3,Rxb5,Nc6,a4,Be6,a5,Nd4,Rb6,Nxb3,a6,Nc5,Rxe6', 'Nxe6,a7,Nc7', 'https://lichess.org/training/IQvfh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iqWMx', 'Blitz', 'Jibrill', 1745, 'maxtocantins', 1750, 'e4,e5,d4,Nc6,d5,Nce7,Nf3,d6,Be2,Bg4,O-O,Ng6,h3,Bd7,Nbd2,Nf6,c4,c5,b3,Be7,Kh1,O-O,Rg1,Nf4,Nf1,Bxh3,gxh3,Nxh3,Rg2,Qd7,Ng1,Nxg1,Kxg1,Nxe4,f3,Nf6,Bh6,Nh5,f4,Kh8,Bxh5,gxh6,Bg4,Qd8,fxe5,dxe5,Bf5,Bg5,Qh5,Qf6,Ng3,e4,Rf1,Qd4+,Kh1,e3,Ne4,f6,Nxg5,fxg5,Qxh6,Rf7,Rxg5,e2,Rfg1,Raf8,Bxh7,Rxh7', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/iqWMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iqyXr', 'Rapid', 'stefano_nicolas', 1856, 'lojda2', 1803, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,O-O,h6,c3,Nf6,Re1,Be7,d4,exd4,cxd4,O-O,Nc3,a6,Ba4,Na5,b4,Nc4,Qd3,Bxa4,Nxa4,b5,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,a3,Bf6,Bf4,c6,Be5,Bxe5,Nxe5,Rfe8,Nxc4,Rxe1+,Rxe1,bxc4,Qc3,Rd8,Rc1,Qxd4,Qxc4,Qb2,Qc3', 'Rd1+,Rxd1,Qxc3', 'https://lichess.org/training/iqyXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IQZm1', 'Rapid', 'jaber', 1773, 'Ivanhoe123', 1921, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bg5,Qb4+,Nbd2,Qxb2,e4,Bb4,Bc4,Nxe5,O-O,Nxf3+,Nxf3,h6,Bf4,d6,e5,Bg4,exd6,O-O-O,Bxf7,Nf6,h3,Bxf3,Be6+,Rd7,Qxf3,cxd6,Rab1,Qc3,Bxd7+,Nxd7,Qg4,Bc5,Rxb7,Kxb7,Qxd7+,Ka6,Qc6+,Ka5,Bxd6', 'Bxf2+,Rxf2,Qxc6', 'https://lichess.org/training/IQZm1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ir0NT', 'Rapid', 'jaco_89', 2394, 'Patt68', 2171, 'e4,e5,f4,d6,Nf3,exf4,d4,g5,h4,g4,Ng1,Be7,Bxf4,Bxh4+,g3,Bf6,Ne2,h5,Nbc3,c6,Kd2,Ne7,Kc1,Ng6,Be3,Na6,a3,Bd7,Nf4,Qe7,Bxa6,bxa6,Nxh5,O-O-O,Qf1,Bg5,Qxa6+,Kb8,Qd3,Rh7,e5,Rdh8,Ne4,Bxe3+,Qxe3,Rxh5,Rxh5,Rxh5,exd6,Qd8,Nc5,Ka8,Qe4,f5,Qg2,f4,gxf4,Nxf4,Qf1,Ne2+,Qxe2,Rh1+,Kd2,Rxa1,Nxd7,Qxd7', 'Qe7,Qxe7,dxe7', 'https://lichess.org/training/Ir0NT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iR1Mi', 'Rapid', 'kumikos', 1625, 'lyqst', 1713, 'd4,Nf6,Bf4,g6,Nf3,Bg7,e3,O-O,Be2,d6,c4,Nbd7,O-O,c5,Nc3,a6,Qc2,b5,Rad1,b4,Nb1,Bb7,Qa4,Nb6,Qb3,cxd4,Qxb4,a5,Qb3,dxe3,Bxe3,Nfd7,c5,a4,Qb4,Nd5,Qxb7,Nxe3,fxe3,Rb8,Qe4,Nxc5,Qf4,e5,Qg3,Ne4,Qe1,Qb6,Nc3,Qxe3+,Kh1,Rxb2,Nxe4', 'Rxe2,Qb4,Qxe4,Qxe4,Rxe4', 'https://lichess.org/training/iR1Mi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iR2hL', 'Rapid', 'Dekac14', 1727, 'Fielmann5', 1794, 'e4,e6,f4,d5,exd5,exd5,Nf3,Nf6,d4,Be7,Bd3,O-O,O-O,b6,h3,c5,c3,Ne4,Nbd2,f5,Ne5,Bd7,Qh5,Ng3,Qf3,Nxf1,Nxf1,Be8,Ne3,Nc6,Nxd5,cxd4,Nxc6,Bxc6,Nxe7+,Qxe7,Qxc6,dxc3,Qd5+,Kh8,Bxf5,Rad8,Qb5,Qe1+,Kh2,Rd1,Be3,c2,Bxc2,Rxa1,Qh5,h6,Bd4,Qe6,Bb3,Qf5', 'Qxh6+,Qh7,Bxg7#', 'https://lichess.org/training/iR2hL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ir2LE', 'Rapid', 'ssr1234', 1875, 'bulut10', 1855, 'd4,Nf6,c4,d6,Nc3,Bf5,Nf3,Nbd7,Qb3,b6,Nh4,Bg4,e4,e5,d5,Nxe4,Nb5,a6,f3,Qxh4+,g3,Nxg3,hxg3,Qxg3+,Ke2,Bf5,Nxc7+,Kd8,Nxa8,e4,Nxb6,exf3+,Qxf3', 'Bg4,Qxg4,Qxg4+', 'https://lichess.org/training/ir2LE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ir2lG', 'Rapid', 'farshad2747', 1760, 'belova', 1814, 'e4,e5,Nf3,Qf6,Nc3,c6,Bc4,Bc5,O-O,d6,Na4,Bb4,c3,Ba5,b4,Bd8,d3,b5,Bg5,Qg6,Bxd8,Kxd8,d4,bxc4,dxe5,Qxe4,exd6,Nf6,Re1,Qg6,Nc5,Nd5,Qd4,Be6,Nxe6+,fxe6,Qxc4,a5,b5,cxb5,Qxb5,Nd7,Rab1,Nxc3,Qb7,Rc8,Rbc1,Qf6,Ne5,Nxe5,Rxe5,Qxe5', 'Qe7#', 'https://lichess.org/training/Ir2lG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ir3AM', 'Rapid', 'cauexadrez', 1958, 'pyp0614', 1924, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,Bg4,h3,Bh5,g4,Bg6,Bc2,O-O,d4,Re8,d5,Nb8,Kh2,Nbd7,Nbd2,Bf8,Nf1,h6,Ng3,Nc5,b4,Ncd7,a4,Nb6,axb5,axb5,Rxa8,Qxa8,g5,hxg5,Bxg5,Nh7,Be3,Nc4,Nh4,Qd8,Nxg6,fxg6,Qg4,Qf6,Kg2,Be7,Ra1,Rf8,Nh1,Nxe3+,fxe3,Qg5,Nf2,Qxe3,Rf1,Qxc3,Bd3,Qd2,Qxg6,Qg5+,Qxg5,Bxg5,Bxb5,Bd2,Nd3,Rxf1,Kxf1,Ng5,Nf2,Bxb4,Bd7,Bc5,Bf5,Bxf2,Kxf2,Kf7', 'h4,Kf6,hxg5+', 'https://lichess.org/training/ir3AM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ir3nR', 'Rapid', 'Breezy024', 1604, 'amimul', 1634, 'e4,f5,exf5,Nf6,Qf3,d5,d4,Nc6,Be3,e6,fxe6,Bxe6,Bb5,Bd6,Bxc6+,bxc6,Nc3', 'Bg4,h3,Bxf3', 'https://lichess.org/training/ir3nR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ir3RO', 'Classical', 'Danila_2012', 1600, 'imaga', 1725, 'd4,Nf6,Nc3,g6,e4,d6,Bg5,Bg7,Nf3,O-O,e5,dxe5,dxe5,Ng4,Nd5,Nc6,Bb5,Ngxe5,Nxe5,Bxe5,Bxc6,bxc6,Nxe7+,Kg7,Nf5+,Bxf5,Bxd8,Raxd8,Qf3,Bxb2,Rb1,Rfe8+,Kf1,Bxc2,Rxb2,Rd1+,Qxd1,Bxd1,Rb7,Be2+,Kg1,Bb5,h4,Re1+,Kh2,Re2,Rxa7,Rxf2,a4,Bd3,Rxc7,Rf4,Kg3,Rxa4,Rxc6,Be4,Rc7,Ra2,Rg1,h6,Rcc1,Ra3+,Kf4,f5,Rc7+,Kf6,Rgc1', 'g5+,hxg5+,hxg5#', 'https://lichess.org/training/ir3RO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IR4mT', 'Blitz', 'enterTheZoid', 1527, 'Bandejas_1', 1586, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,d4,exd4,Nxd4,Nf6,Nf5,O-O,Nc3,Re8,Bg5,h6,Nxh6+,gxh6,Bxh6,Nxe4,Nxe4,Rxe4,Qd3,Re6,Be3,Kf8,Qh7,Qf6,c3,Ke8,Qg8+,Kd7', 'Bg5,Re8,Qxe8+,Kxe8,Bxf6', 'https://lichess.org/training/IR4mT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ir4ZQ', 'Blitz', 'lancelotukr', 1852, 'zarathustra7', 1988, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,h6,Bh4,O-O,Nf3,c6,Rc1,Nbd7,Bd3,b6,a3,Bb7,b4,a5,c5,axb4,axb4,b5,O-O,Nh5,Bxe7,Qxe7,e4,Nf4,Bc2,Ra3,Bb1,Rfa8,Re1,Qd8,exd5,exd5,Qd2,Ne6,Qc2,Nf6,Qf5,Bc8,Qe5,Ng4,Qh5,Nf4,Qh4,g5,Qg3,Be6,Ne5,Nxe5,Rxe5,Qf6,Qe3,Rb3,Bc2,Rb2,Bd3,Ra3,g3,Ng6,Bxg6,Qxg6,Qe1,Rbb3,Ne2,Bh3,Re8+,Kg7,Nc3,Qf6,Re3,Qxd4,Ne2,Qxb4', 'Qxb4,Rxb4,Rxa3', 'https://lichess.org/training/ir4ZQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ir7Mx', 'Rapid', 'castillojcr', 1659, 'faridz-gorden', 1774, 'e4,e5,Nf3,d5,d3,dxe4,Nxe5,Bd6,Nc4,Bc5,Nc3,Nf6,Bg5,Bg4,Be2,Bxe2,Qxe2,O-O,O-O,exd3,cxd3,Re8,Qf3,Be7,Qxb7,Nbd7,Rfe1,Nc5,Qf3,Qxd3,Qxd3,Nxd3,Red1,Rad8,Nb5,Bc5,Bh4,Ng4,Rf1,Re2,Bxd8,Ngxf2,Bxc7,Nd1+,Kh1,N3f2+,Kg1,Nh3+,Kh1,Re1,Rxe1', 'Ndf2#', 'https://lichess.org/training/ir7Mx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irAXa', 'Rapid', 'Andrey24-10', 1821, 'LAXY123', 1806, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb6,Bb2,Nge7,d5,Na5,Ne5,d6,Bb5+,c6,dxc6,bxc6,Nxc6,Naxc6,Bxg7,Rg8,Bf6,Qc7,Nc3,Bd7,Bxe7,Nxe7,Rc1,Bc5,Bxd7+,Qxd7,Nd5,Nxd5,exd5,Qh3,g3,Kd7,Qa4+,Kc7,Qc6+,Kb8,Rb1+,Bb6,Qxd6+,Kb7,Qc6+,Ka6,Rb3,Rac8', 'Ra3#', 'https://lichess.org/training/irAXa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ircwQ', 'Rapid', 'davoglio007', 1780, 'Deffo', 1827, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,dxe5,Nxe5,Bxd7+,Nxd7,O-O,Be7,Nc3,c6,Bf4,Nb6,b3,h5,Qd2,Qd7,Rad1,Rd8,e5,d5,Na4,Nxa4,bxa4,h4,h3,Nh6,a5,a6,Rfe1,Nf5,Ng5,Bxg5,Bxg5,Rb8,c4,d4,Qf4,O-O,e6,fxe6,g4,hxg3,fxg3,c5,Qe5,Rbe8,g4,Ne7,Qxc5,Rf7,Rxd4,Qa4,Rde4,Qxa2,Rxe6,Ref8,R6e2,Qb3,Bxe7', 'Qg3+,Rg2,Qxe1+', 'https://lichess.org/training/ircwQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irdBO', 'Rapid', 'JeffreyJ', 1960, 'Nathaniel730', 1718, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,Ng5,h6,Nxf7,Qe7,Qh5,Rf8,Qd1,b5,Nd5,Qxf7', 'Nxc7+,Kd8,Bxf7', 'https://lichess.org/training/irdBO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRddk', 'Blitz', 'LordLywuka', 1621, 'incuboi311', 1589, 'e4,d5,exd5,Qxd5,d4,Qa5+,Bd2,Qb6,Nf3,c6,h3,Nf6,Nc3,e6,a4,Nbd7,b3,Bd6,Bd3,Qc7,O-O,b6,Bg5,Bb7,Bxf6,Nxf6,Re1,c5,Be4,Nxe4,Nxe4,O-O,Nxd6,Qxd6,dxc5,Qxc5,Ne5,Rad8,Qg4,Rd5,Nc4,Rg5,Qh4,Bxg2,Re5,Rxe5,Nxe5,Qxe5,Rd1,Bf3,Rd8,Qe1+,Kh2,Qf1', 'Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/IRddk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iRDQP', 'Rapid', 'Ton29', 1808, 'CatPetros', 1785, 'd4,Nf6,h3,g6,Bf4,Bg7,e3,d6,c3,O-O,Nf3,Nbd7,Bd3,Re8,Bh2,e5,dxe5,dxe5,Be2,e4,Nd4,Nc5,O-O,c6,Qc2,Nd5,Bc4,Kh8,Nd2,f5,Rad1,Qe7,N2b3,Nb6,Be2,Nxb3,Qxb3,Nd5,Bc4,Rd8,Ne2,Be6,Nf4,Bg8,Nxd5,cxd5,Bxd5,Bxd5,Rxd5,Rxd5,Qxd5,Rd8,Qb3,Qd7,Bf4,h6,Rc1,g5,Bg3,h5,h4,Bh6,hxg5,Bxg5,Be5+,Kh7,Bd4,b6,Qd1,Kh6,g3,f4,exf4,Bxf4,gxf4,Rg8+,Kf1,Qh3+,Ke2,Qf3+,Kd2', 'Qd3+,Ke1,Rg1#', 'https://lichess.org/training/iRDQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRe1g', 'Rapid', 'samirkarak', 1817, 'qwerty1101', 1816, 'd4,d5,c4,e6,cxd5,exd5,e4,dxe4,d5,Bb4+,Nc3,Nf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/IRe1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iRFh1', 'Classical', 'Kokosezi', 1853, 'Konigdesschachs', 1894, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,d6,c3,O-O,Nbd2,c5,Be2,cxd4,exd4,Nc6,Qb3,Nh5,Bg3,Qc7,Bd3,a6,O-O-O,b5,Kb1,Na5,Qc2,Bb7,b4,Nc4,Nxc4,bxc4,Be4,d5,Bxc7,dxe4,Nd2,f5,Rdg1,Nf6,Be5,Nd5,Bxg7,Kxg7,Nxc4,Rfc8,Qb3,Rc7,Kb2,Rac8,Ne3,Rxc3,Qa4,Nf4,Rc1', 'Nd3+,Ka1,Rxc1+,Rxc1,Rxc1#', 'https://lichess.org/training/iRFh1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irgrm', 'Rapid', 'Ivan740889', 2003, 'Medinareinier', 2008, 'e4,c5,Nc3,Nc6,Nf3,g6,Bc4,Bg7,O-O,Nf6,e5,Ng4,Re1,O-O,h3,Nh6,d3,Nf5,a3,Nfd4,Nxd4,Nxd4,Nb5,Nc6,Bf4,a6,Nc3,b5,Bd5,e6,Bxc6,dxc6,Ne4,c4,Nd6,Qh4,Bg3,Qg5,h4,Qe7,dxc4,bxc4,Qf3,Bd7,Nxc4,Rab8,b3,f5,Rad1,f4,Bh2,Rbd8,h5,g5,Re4,h6,Nd6,c5,Qc3,Bc6,Ree1,Rxd6,Rxd6', 'Qxd6,exd6,Bxc3', 'https://lichess.org/training/irgrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRgrp', 'Rapid', 'faridzahira', 2123, 'zanegabriel', 1969, 'c4,c6,Nc3,d6,Nf3,Bg4,Qb3,Qc7,d3,Nf6,Bg5,Nbd7,Rc1,Be6,d4,h6,Bf4,Bf5,c5,e5,cxd6,Bxd6,Nb5', 'Qa5+,Bd2,Qxb5,Qxb5,cxb5', 'https://lichess.org/training/IRgrp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irH7s', 'Blitz', 'sashiitomi', 1938, 'FeelDizzy', 1901, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,c5,Qb5+,Qd7,Qd3,Nc6,c3,Nge7,Bg5,Ng6,g3,Be7,Be3,b6,Nbd2,O-O,h4,Rfe8,h5,Nf8,Ng5,Bxg5,Bxg5,Ne7,Bxe7,Qxe7,h6,g6,Nf3,f5,exf6,Qxf6,Ne5,Rad8,Rh4,Nd7,Rf4,Qg5,Nf7,Qxf4,gxf4,Kxf7,O-O-O,c4,Qh3,Nf6,b3,b5,Re1,Rd7,Qe3,cxb3,axb3,Rc7,Qe5,Rxc3+,Kb2,Rec8,Re2,Ne4,Qg7+,Ke8,Qxh7,a5,Qg8+,Kd7,Qg7+,Kd6,h7,a4,b4', 'Rb3+,Ka1,Rc1+,Ka2,Nc3#', 'https://lichess.org/training/irH7s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irhJf', 'Rapid', 'Lucre53', 1780, 'kontaxis91', 1778, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,g6,Nc3,Bxa6,g3,Bg7,Bg2,d6,Nf3,Nbd7,O-O,Nb6,Qc2,O-O,Re1,Nbxd5,Nxd5,Nxd5,Nd2,Bb7,Nc4,Nb4,Qb3,Bxg2,Kxg2,Qc7,Bd2,Rfb8,a3,Nc6,Qc2,Nd4,Qe4,Nb3,Rab1,Ra4,Qd3,Rxc4,Bg5,Ra4,e4,Ra7,e5,Bxe5,f4,Qb7+,Kf1,Qh1+,Ke2,Qg2+,Kd1,Bf6,Bxf6,exf6,Qxd6,Rbb7', 'Re8+,Kg7,Qf8#', 'https://lichess.org/training/irhJf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRjPZ', 'Rapid', 'Patrik_de_Smrt', 2238, 'heap', 2027, 'd4,Nf6,Nf3,g6,Bg5,Bg7,c3,O-O,e3,h6,Bh4,a6,Bd3,d5,Nbd2,b6,Qc2,c5,Bg3,Nc6,Ne5,Bb7,h4,c4,Be2,Nd7,f4,Ndxe5,fxe5,b5,h5,g5,Nf3,e6,a3,a5,O-O,b4,axb4,axb4,cxb4,Nxb4,Qc3,Qb6,Be1,Rxa1,Qxb4,Qxb4,Bxb4,Rxf1+,Kxf1,Ra8,Nh2,Ra1+,Kf2,Ba6,Bc3,Bf8,Ng4,Kg7,Nf6,Bb5,b3,Be7,Bxa1,Bxf6,exf6+,Kxf6,bxc4,dxc4,Bc3,Kf5,g4+,Ke4,Bf1,f5,gxf5,exf5,Ke2,f4,Bg2+,Kf5,e4+,Kg4,Bf3+,Kg3,Be1+,Kh3,Kd2,g4,Be2', 'c3+,Kxc3,Bxe2', 'https://lichess.org/training/IRjPZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irKNk', 'Blitz', 'DressForAnna', 2664, 'FM lexisvar', 2606, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,h3,e5,Be3,exd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,Re8,O-O,Nd7,Qd2,Nc5,Bc2,Ne6,f4,c5,f5,Nd4,Nd5,Nxc2,Qxc2,Bb7,Rae1,Bxd5,exd5,Rb8,b3,Qe7,Bxc5,Qxe1,Rxe1,Rxe1+,Kf2,Rbe8,Bxa7,R1e5,g4,Bh6,Bd4,Re4,Qd3,Rf4+,Kg3,Rfe4,a4,Be3,Bc3,g5,Kg2,Rf4,Be1,Bc5,Bg3,Rfe4,a5,Re2+,Kf1,R2e3,Qd2,Rxg3,Qxg5+,Kf8,Qh6+,Ke7', 'Qh4+,Kd7,Qxg3', 'https://lichess.org/training/irKNk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irkqt', 'Rapid', 'Spart3', 2076, 'Cecil_Cuevas', 2238, 'd4,d6,c4,g6,Nc3,Bg7,e4,e5,d5,Ne7,Bd3,O-O,Nge2,f5,f3,f4,O-O,g5,Kh1,g4,fxg4,Bxg4,Qe1,Ng6,Ng1,Nd7,Be2,h5,Nf3,a5,h3,Nc5,hxg4,hxg4,Nh2,g3,Nf3,Kf7,Ng1,Qd7,Qxg3,Rh8+,Nh3,Bf6,Qg4,Qe7,g3,Rxh3+', 'Qxh3,Rh8,Bh5', 'https://lichess.org/training/irkqt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iRLjH', 'Rapid', 'Korolkovalex89', 1639, 'qasim3', 1675, 'e4,c5,Nc3,Nc6,Bc4,e6,Nf3,Nf6,h3,d5,exd5,exd5,Qe2+,Be7,Bb5,O-O,Bxc6,bxc6,O-O,a5,Ne5,Qc7,d3,Re8,Ng4,c4,Bg5,cxd3,cxd3,Bc5', 'Nxf6+,gxf6,Qxe8+', 'https://lichess.org/training/iRLjH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irLMF', 'Rapid', 'Blacktoothgrim', 1638, 'moldas', 1627, 'd4,d5,c4,c6,Nc3,e6,Qc2,Nf6,Nf3,Bd6,cxd5,exd5,e4,dxe4,Nxe4,Bb4+,Bd2,Qe7,Bxb4,Qxb4+,Nfd2,Bf5', 'Nxf6+,gxf6,Qxf5', 'https://lichess.org/training/irLMF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IrmfJ', 'Rapid', 'Nigel21', 1796, 'AndresCamilo', 1859, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,d3,b5,Bb3,d6,Bg5,O-O,Nc3,Bg4,h3,Bh5,Bxf6,Bxf6,Nd5,Na5,Qe2,c6,Ne3,Nxb3,axb3,Re8,g4,Bg6,Ng2,d5,h4,h6,b4,Qd6,c3,d4,h5,Bh7,Nfh4,Red8,Rfd1,c5,cxd4,cxd4,Qd2,Bg5,Qe1,Be7,Nf5,Bxf5,gxf5,Qxb4,Qxb4,Bxb4,f4,f6,fxe5,fxe5,Nh4,a5,Kh1,Rac8,Rg1,Kf7,f6,gxf6,Nf5,Rc2,Rg7+,Ke6,Rxa5,Rc6,Raa7,Re8,Nxh6,Rh8,Rh7,Rxh7,Rxh7,Rc1+,Kh2,Rc2+,Kh3,Rd2,Nf5,Rxd3+,Kg4,Rd1,Rb7,d3,h6,d2,Ne3,Rg1+,Kf3,d1=Q+,Nxd1,Rxd1,h7,Rd8,Rg7,Rh8,Kg4,Bd2,Kh5,f5,exf5+,Kxf5,Rf7+,Ke6,Kg6,e4,Rg7,e3,Rg8,Rxh7,Kxh7,b4,Rg2,Kd5,Kg6,Kc4,Kf5,Kb3,Ke4,Kxb2,Kd3,Ka2,Ke2', 'b3,Rg8,b2,Ra8+,Kb3', 'https://lichess.org/training/IrmfJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irMUM', 'Classical', 'TreyHardee', 1708, 'rihards2002', 1790, 'c4,e5,Nc3,Nf6,Nf3,Nc6,g3,Bc5,Nxe5,Bxf2+,Kxf2,Nxe5,e4,c5,d4,cxd4,Qxd4,d6,Bg5', 'Nfg4+,Kg2,Qxg5', 'https://lichess.org/training/irMUM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irNOM', 'Rapid', 'xxzzyt', 1840, 'walton1060', 1696, 'e4,e5,d4,exd4,Nf3,Nc6,Nxd4,Nxd4,Qxd4,Nf6,e5,Ng8,Bc4,d6,O-O,Be6,Bb5+,c6,Ba4,b5,Bb3,Bxb3,axb3,dxe5,Qxe5+,Be7,Re1,Nf6,Bg5,O-O,Qxe7,Qxe7,Rxe7,Nd5,Rb7,f6,Bh4,Rf7,Rxf7,Kxf7,Nd2,a5,f3,Nb4,c3,Nd3,Rb1,a4,Kf1,a3,bxa3,Rxa3,Ke2,Nf4+,Kf2,Ra2,Rc1', 'Nd3+,Ke2,Nxc1+', 'https://lichess.org/training/irNOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iRnqj', 'Blitz', 'sodel', 2232, 'kellmano', 1897, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,d4,c5,Nf3,Nc6,c3,Bg4,Be2,cxd4,cxd4,Bxf3,Bxf3,Qa5+,Bd2,Qb6,Bc3,O-O-O,O-O,Nxd4,Bxd4,Qxd4,Qb3,Qb6,Qxf7,e5,Rac1+,Kb8,Rfd1,Bc5,Rxd8+,Rxd8,Rf1,e4,Bxe4,Qxb2,Rb1', 'Qxb1+,Bxb1,Rd1#', 'https://lichess.org/training/iRnqj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IrNy0', 'Rapid', 'madboy06', 1926, 'andreslosada', 2037, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,Nbd7,e3,O-O,Be2,a6,a3,dxc4,Bxc4,b5,Be2,c5,dxc5,Nxc5,Qc2,Qb6,b4,Ncd7,O-O,Bb7,Rfd1,Rfe8,Rac1,Rac8,Qb2,h6,Bh4,Nf8,Ne5,g5,Bg3,Red8,Bf3,Bxf3,Nxf3,Rxd1+,Rxd1,Ng6,Ne2,Ne4,Ned4,Nxg3,hxg3,Bf6,Qb1,Qc7,Nb3,Qc3', 'Rc1,Qxc1+,Nxc1', 'https://lichess.org/training/IrNy0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRNYL', 'Blitz', 'lighting33', 1772, 'Bogen', 1772, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,c5,Bf4,Nc6,e3,Be7,Be2,O-O,O-O,cxd4,exd4,a6,h3,Bd6,Bxd6,Qxd6,c5,Qd8,a3,b5,b4,Re8,Ne5,Qc7,Ng4,e5,Nxf6+,gxf6,Bg4,Kh8,Qf3,Qe7,Bxc8,Nxd4,Qxd5,Raxc8,Ne4,Rg8,Nd6,Ne2+,Kh2,Rcf8,Qb7,Qe6,Qxa6,Nf4,Rg1', 'Rxg2+,Rxg2,Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/IRNYL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irNyw', 'Classical', 'Lazoupina', 1933, 'Yobi38', 1896, 'd4,f5,c4,Nf6,Nf3,e6,Bg5,Be7,e3,d6,Bd3,a5,O-O,Ne4,Bxe7,Qxe7,a4,O-O,Nc3,d5,cxd5,exd5,Ne5,Nd7,Nxd5,Qd6,Qb3,Nxe5,dxe5,Qe6,Bc4,Kh8,Nxc7,Qg6,Nxa8,f4,Bd3,f3,g3,Qg4,Rfc1,Qh3,Bf1,Qh6,Nc7,Bh3,Qd3,Nd2,Qxd2,Bxf1,Qe1,Be2,Nd5', 'Qh3,Nf4,Rxf4,Rc8+,Qxc8', 'https://lichess.org/training/irNyw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRNZ1', 'Rapid', 'karmen6565', 1621, 'SmilingMan', 1671, 'd4,d5,c3,Bf5,Nf3,Bxb1,Rxb1,h6,b4,a6,a4,Nc6,e3,Nf6,Be2,e6,O-O,Bd6,b5,Na5,bxa6,b6,Bd2,O-O,Qc2,Ne4,c4,Nxd2,Nxd2,Qh4,g3,Qg5,c5,bxc5,dxc5,Be5,Nf3,Qf6,Rfd1,c6,e4,Bc7,e5,Bxe5,Nxe5,Qxe5,Rb6,Rac8,Qd2,Nc4,Bxc4,dxc4,a7,Qxc5,Qd4,Qa5,Rb7,c5,Qd7,Ra8,Rdb1,c3,R1b5,Qxa4,Rb8,Rxa7', 'Rxf8+,Kh7,Qd3+', 'https://lichess.org/training/IRNZ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IrOdy', 'Classical', 'Kadyrbek', 1741, 'Gamer_Fast', 1769, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,O-O,Nf3,d6,O-O,c5,dxc5,dxc5,Nc3,Nc6,e3,Nb4,a3,Nd3,Qd2,Bf5,e4,Bxe4,Qe3,Nxc1,Raxc1,Bf5,Rfd1,Qb6,Qxe7,Qxb2,Qxc5,Bh6,Nd2,Bxd2,Na4,Qb3,Rxd2,Qxa4,Bxb7,Rab8,Bc6,Rbc8', 'Qxf8+,Kxf8,Bxa4', 'https://lichess.org/training/IrOdy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irPpf', 'Rapid', 'gamel58', 1797, 'asepdarmawan', 1825, 'd4,d5,c4,dxc4,e4,b5,Nf3,e6,a4,Bd7,axb5,Bxb5,Nc3,c6,Bf4,Bb4,Be2,a6,O-O,Ne7,Ne5,O-O,Nxc4,Ng6,Be3,Bxc4,Bxc4,Bd6,e5,Be7,Qc2,Nd7,Rad1,Nb6,Bd3,Nd5,Nxd5,cxd5,f4,a5,f5,exf5,Bxf5,a4,Qc6,Nh4,e6,Nxf5,Rxf5,Rc8,exf7+,Rxf7,Qe6,Qf8', 'Rxf7,Qxf7,Qxc8+', 'https://lichess.org/training/irPpf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Irq75', 'Rapid', 'xander333', 1931, 'xxxLUCASxxx', 1904, 'c4,e6,e4,Nf6,e5,Ne4,d3,Bb4+,Bd2,Nxd2,Nxd2,Qg5,Nf3,Qg6,a3,Bc5,b4,Be7,g3,d6,Qe2,dxe5,Nxe5,Qf6,Bg2,Nc6,Bxc6+,bxc6,O-O,Bb7,c5,O-O,d4,Rad8,Qd3', 'Qxe5,dxe5,Rxd3', 'https://lichess.org/training/Irq75');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRtQh', 'Rapid', 'lp1504', 1696, 'Giannimag84', 1704, 'd4,d5,Bf4,Nf6,e3,g6,Be2,Bg7,Nf3,O-O,Nbd2,Nc6,c3,Bf5,h4,Re8,Ne5,Nxe5,Bxe5,Ne4,f3,Ng3,Bxg3,e5,h5,exd4,hxg6,c5,gxh7+,Bxh7,Nb3,dxc3,Bd3,cxb2,Bxh7+,Kf8,Rb1,Qg5,Kf2,Rxe3,Qd2,Rae8,Rhe1,Bc3,Bd6+,Kg7,Rxe3,Bxd2,Rxe8,Qh4+,Bg3,Qxh7,Rxb2,Qd3,Re2,Bb4,Be5+,f6,Bb8,c4,Nc1,Bc5+,Ke1,Qd4,Bh2,c3,Rxb7+,Kg6,Rc2,Qh4+,g3,Qa4,Rb3,Qd4,Ne2', 'Qf2+,Kd1,Qf1#', 'https://lichess.org/training/IRtQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Irtqm', 'Rapid', 'EC_BasT', 1774, 'Ruslan700', 1771, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,h6,O-O,Nf6,h3,Be7,Be3,O-O,Nc3,Na5,Nd2,Nxc4,Nxc4,c6,a3,Nh7,b4,Be6,Na5,Qc7,Ne2,b6,Nc4,Bxc4,dxc4,Ng5,Qd3,f5,exf5,e4,Qb3,Rxf5,Rad1,d5,Ng3,dxc4,Qxc4+,Rf7,Nxe4,Nxe4,Qxe4,Kh8,Rd2,Bf6,Rfd1,Bb2,Rd3,Re7,Qf3,Rf7,Qe2,Re8,Qg4,Re5,Bf4', 'Rxf4,Qxf4,Re1+,Rxe1,Qxf4', 'https://lichess.org/training/Irtqm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iRvgG', 'Blitz', 'Alakazu', 1697, 'Jusul', 1950, 'd4,d5,c4,dxc4,e3,c6,Bxc4,e6,Nf3,b5,Bd3,Bb7,O-O,Nd7,a4,a6,axb5,cxb5,e4,Ngf6,Bg5,Be7,Nbd2,h6,Bh4,O-O,e5,Nd5,Bxe7,Qxe7,Ne4,N7b6,Nd6,Nc8,Nxb7,Qxb7,Be4,Ncb6,Nd2,Qd7,Qg4,Ra7,Bd3,Nb4,Bb1,g6,Ne4,N6d5,Nf6+,Nxf6,exf6,Kh7,Ra3,Nd5,Qh4,Qd8,Rh3,Qxf6', 'Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/iRvgG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRVgz', 'Rapid', 'ashloopyx', 1655, 'spielman641', 1638, 'e4,c6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,e6,Nf3,Be7,Bd3,c5,O-O,cxd4,Nxd4,Bc5,Be3,Nc6,Nxc6', 'Bxe3+,Kh1,bxc6', 'https://lichess.org/training/IRVgz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRvkq', 'Blitz', 'wizzard_2005', 2356, 'wsiie', 2247, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bd3,Bg4,O-O,Bd6,h3,Bh5,Re1+,Nge7,Be2,O-O,Ne5,Bxe2,Rxe2,Re8,Nd2,Nxd4,Re1,Bxe5,Rxe5,Qd6,Re3,Nef5,Rd3,c5,Nf3,Rad8,c3,Ne2+,Kf1,Nxc1,Rxc1,Qa6,Kg1,Qxa2,Ra1,Qc4,Rxa7,b5,Ng5,Re7,Qh5,Nh6,Rxe7,Qxd3,Nxf7,Nf5,Nh6+,Nxh6', 'Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/IRvkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRVrm', 'Blitz', 'Marsblue', 2017, 'Timon007', 2054, 'd4,d6,Bg5,h6,Bh4,g5,Bg3,Nd7,e3,b6,Be2,Bb7,Bf3,Qc8,c4,e5,d5,Ba6,Qc2,Ngf6,Nc3,Bxc4,Ne4,Bxd5', 'Nxf6+,Nxf6,Bxd5,Nxd5,Qc6+,Ke7,Qxd5', 'https://lichess.org/training/IRVrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irWCN', 'Rapid', 'IlyaBelousov', 1602, 'benatos', 1621, 'e4,c5,Nf3,d6,Bb5+,Nd7,Nc3,a6,Bc4,e6,O-O,b5,Be2,Bb7,d4,cxd4,Qxd4,Ngf6,e5,Nd5,exd6,Bxd6,Qxg7,Ke7,Bg5+,N5f6,Bxf6+,Nxf6,Ng5,Qf8,Qxf8+,Kxf8,f3,Bc5+,Kh1,h5,Nge4,Be7,Nxf6,Bxf6,Rad1,h4,Rd7,Rb8,Re1,h3,g3,Kg7,Red1,Rh5,Ne4,Bxb2,Nd6,Ba8,Rxf7+,Kg6,Bd3+,Kh6,Rh7+,Kg5,Nf7+,Kf6,Rxh5,Bxf3+,Kg1,Bxh5,Rf1+,Ke7,Ng5,Bd4+,Kh1,Rf8', 'Rxf8,Kxf8,Nxe6+,Ke7,Nxd4', 'https://lichess.org/training/irWCN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irwsR', 'Rapid', 'jksiva', 1886, 'vangogh57', 1941, 'e4,c5,Bc4,d6,Nc3,a6,a3,Nf6,Nf3,e6,O-O,Be7,d3,Nbd7,Ba2,Qc7,h3,b5,Bf4,Bb7,Bh2,Bc6,e5,Bxf3', 'Qxf3,O-O,exf6', 'https://lichess.org/training/irwsR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irwYJ', 'Rapid', 'eitaho', 1655, 'SANEX', 1654, 'd4,d5,e3,Nf6,c4,Bg4,Be2,Bxe2,Qxe2,e6,Nf3,Nc6,Ne5,Na5,c5,b6,Qb5+,Nd7,Bd2,a6,Qa4,Nc4,Qc6,bxc5', 'Nxd7,Qxd7,Qxa8+', 'https://lichess.org/training/irwYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('irxDi', 'Rapid', 'Juditomorfi', 1858, 'lukemunster', 1917, 'b4,b5,e3,Bb7,Nf3,a5,bxa5,Rxa5,c4,bxc4,Bxc4,g6,Bb2,Nf6,Nc3,Bg7,O-O,O-O,a4,Nd5,Qc2,Nxc3,Bxc3,Ra8,Bxg7,Kxg7,d4,Bxf3,gxf3,e6,Kh1,Nc6,d5,exd5,Bxd5,Qf6,Bxc6,dxc6,f4,Rfd8,Rfc1,Rd6,Qc3', 'Rd1+,Kg2,Qxc3,Rxc3,Rxa1', 'https://lichess.org/training/irxDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRXP0', 'Rapid', 'Vika39', 1698, 'Manoel_Lima', 1751, 'e4,e5,Nf3,Nc6,Nc3,d6,Bb5,Bd7,d3,a6,Bxc6,Bxc6,Bg5,Nf6,d4,Bd7,dxe5,dxe5,Nxe5,Bg4,Qxd8+,Rxd8,Nxg4,Nxg4,Bxd8,Kxd8,O-O-O+,Kc8,Rd2,Bc5,f3,Ne5,Rd5,Be3+,Kd1,Ng6,Re1,Ba7,Kc1,Nf4,Rg5,g6,g3,Ng2,Re2,Be3+,Kb1,Bxg5,f4,Nxf4,gxf4,Bxf4,Rf2,g5,h3,h6,Nd5,Rd8,b3,Be5,Rxf7,c6', 'Nb6+,Kb8,Nd7+', 'https://lichess.org/training/IRXP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IRYv3', 'Rapid', 'fenix2k6', 1683, 'Balor1', 1719, 'e4,e5,f4,d5,d3,Nc6,Nf3,Bg4,Be2,dxe4,dxe4,Nd4,O-O,Bc5,Nbd2,Nxc2+,Kh1,Nxa1,Nxe5,Nf6,Bxg4,Nxg4,Qxg4,O-O,f5,Nc2,f6,g6,Nb3,Bb6,Bh6,Re8,Rd1,Qxf6,Nf3,Be3,Ng5,Rad8,Qe2,Bxg5,Rf1,Qe5,Bxg5,Qxg5,Qxc2,Rxe4,Qxc7,Rde8,Qxb7,Re1,Qf3,R8e3', 'Qxf7+,Kh8,Qf8#', 'https://lichess.org/training/IRYv3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IrZ9J', 'Rapid', 'Ahmed-Esmail', 1820, 'matveev921', 1937, 'c4,e5,Nc3,d6,Nf3,Be7,e3,c6,Be2,Nf6,O-O,O-O,Re1,a6,b3,Nbd7,Bb2,e4,Nd4,c5,Nc2,Ne5,Nd5,Nd3,Bxd3,exd3,Na3,Ne4,Nf4,Bf6,Nxd3,Bxb2,Nxb2,Qf6,Nd3,Qg5,Qf3,f5,Rad1,Bd7,h3,Bc6,Qf4,Qf6,f3,Ng5,Rf1,Qg6,Kh2,Rf6,Rde1,Raf8,Nc2,Ne6,Qh4,Qf7,Nf4,g5,Qg3,Nxf4,exf4,Rg6,fxg5,Qg7,h4,f4,Qf2,h6,gxh6,Rxh6,Re2,Qh7,g3,fxg3+,Qxg3+,Kh8,Rg2,Rxh4+,Kg1,Rh1+,Kf2,Bxf3', 'Rxh1,Bxg2+,Kxg2', 'https://lichess.org/training/IrZ9J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Is10H', 'Rapid', 'Polyglot_2021', 1872, 'alireza_motie', 1879, 'd4,d5,c4,c6,Nf3,Nf6,Bg5,Bf5,Nc3,e6,Nh4,Bg6,Nxg6,hxg6,cxd5,cxd5,e3,Be7,Bb5+,Nc6,Bxf6,Bxf6,Qa4,Qc7,Bxc6+,bxc6,O-O-O,Rb8,Ne2,Qb6,Rd2,O-O,h4,c5,g4,cxd4,Nxd4,Rfc8+,Kb1,Rc4,Qb3,Qd6,Qd3,a5,Nb3,a4,Qxc4,axb3,axb3,Qe5,Qc2,Ra8,g5,Be7,Qc3', 'Qe4+,Qd3,Qxh1+', 'https://lichess.org/training/Is10H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iS2g4', 'Blitz', 'dalyarak01', 2389, 'Doc_NO', 2273, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,O-O,Bb3,a6,h3,d5,Nbd2,Be6,Qe2,Re8,Nf1,d4,Bxe6,Rxe6,c4,b5,b3,bxc4,bxc4,Rb8,Ng3,Ne7,O-O,Nd7,a4,Reb6,Nh4,g6,Qg4,Nf6,Qg5,Qd6,Nhf5,Nxf5,Nxf5,Qf8,f4,Kh8,fxe5,gxf5,exf6,fxe4,dxe4,Qg8,Qxc5,d3,Bh6,Qg3,Rad1,Rb2,Rf2,d2,Rfxd2,Rxd2,Rxd2', 'Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/iS2g4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IS37d', 'Blitz', 'girayisak11', 1997, 'PEMBUNUH45', 1982, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nb5,a6,Nd6+,Bxd6,Qxd6,Nge7,Nc3,O-O,Be3,Ng6,h3,b5,f4,Bb7,Bd3,Qh4+,Kd2,Rfd8,f5,exf5,exf5,Nge5,Ne4,Nxd3,cxd3,f6,Nc5,Bc8,g3,Qb4+,Kc2,Ne5,Qe7,Rf8,a3,Qa5,Rhf1,Qc7,d4,Nc4,Bf4,Qc6,Rae1,Bb7,Kb1,Rae8', 'Qxe8,Rxe8,Rxe8+,Kf7,Rfe1', 'https://lichess.org/training/IS37d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iS3zS', 'Blitz', 'wuzzy007', 1790, 'DARK-ENERGY', 1726, 'e3,e5,b3,Nf6,Bb2,d5,Nc3,d4,exd4,exd4,Nb5,c5,Qe2+,Be7,O-O-O,a6,Na3,b5,h3,O-O,Qf3,Ra7,Bd3,Bb7,Qg3,Bd6,Qh4,h6,f3,Qa5,Ne2,b4,Nc4,Qxa2,Nxd6,a5,Nxb7,Rxb7,Be4,Ra7,g4,Nxe4,fxe4,a4,bxa4,Rxa4,g5,hxg5,Qxg5,Nc6,Rhg1,g6,h4,Rfa8,h5,Qa1+,Bxa1', 'Rxa1+,Kb2,R8a2+,Kb3,Na5#', 'https://lichess.org/training/iS3zS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('is4ac', 'Bullet', 'Amah67', 1596, 'tpmcc', 1613, 'd4,e5,d5,d6,e4,f5,Nc3,Nf6,Bd3,Be7,Bg5,O-O,Nf3,Nbd7,O-O,fxe4,Nxe4,Nxd5,Bxe7,Nxe7,Neg5,Nc5,Bxh7+,Kh8,Bd3,Nxd3,Qxd3,Nf5,g4,d5,gxf5,e4,Qd4,exf3', 'Qh4+,Kg8,Qh7#', 'https://lichess.org/training/is4ac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IS9Fg', 'Rapid', 'touhu', 1969, 'Gladiator38', 1989, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qb6,a3,Qxd4,Nf3,Qd8,Bc4,Nf6,Ng5,e6,O-O,Be7,f4,h6,Nge4,O-O,Qf3,Nbd7,Qg3,Kh8,Rad1,Qb6+,Be3,Qxb2,f5,Nxe4,Nxe4,exf5,Bd4,Qxd4+,Rxd4,fxe4,Rxe4,Bc5+,Kh1,Nf6,Ref4,Bd6,Qb3,Bxf4,Rxf4,Re8,h3,Be6,Bxe6,Rxe6,Qxb7,Rae8,Qxf7,Nd5,Rg4,Re1+,Kh2,Rg8,Qxa7,Re2,Qc5,Ne3,Rg3', 'Nf1+,Kg1,Nxg3', 'https://lichess.org/training/IS9Fg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iSa4J', 'Rapid', 'edwardsklyaroff', 2015, 'CeoQe4', 2074, 'e4,d5,exd5,c6,dxc6,Nxc6,Be2,Bf5,Nf3,e5,d3,Bc5,a3,a6,O-O,Nge7,Nc3,O-O,Be3,Bd6,Na4,Nd5,c4,Nf4,Bxf4,exf4,d4,b5,cxb5,axb5,Bxb5,Be4,Re1,f5,Nc5,Bxc5,dxc5,Qf6,b4,g5,Nd2,Rad8,Qb3+,Kh8,Nxe4,fxe4,Bxc6,Qxc6,Qc3+,Rf6,Rxe4,Rf8,Rae1,f3,Rg4,Qd5,h4,gxh4,Rxh4,Qg5,g3,Qg6,b5,Rg8,Qe5,h6,Qh5,Qg7,Kh2,Rg6,Rg1,Kh7,Qf5,Qc3,Qd7+,R8g7,Qd4,Qxa3,c6,Qb3,Qc4,Qb2,Kh3,Qxf2,Qe4,Qxg1', 'Rxh6+,Kxh6,Qh4#', 'https://lichess.org/training/iSa4J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IsAmb', 'Rapid', 'Igorokiuk', 1838, 'Viktor2021', 1972, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,Qa5+,Bd2,Qd5,c4,Qd6,Ne4,Qc7,Bc3,Ngf6,Nfd2,Be7,f3,Nxe4,Nxe4,Nf6,O-O-O,a6,Kb1,b5,c5,Nd5,g4,b4,Bd2,a5,g5,hxg5,Bxg5,Bxg5,Nxg5,Qf4,Ne4,Ke7,Rde1,Qf5,Ka1,Rxh5,Rxh5,Qxh5,Nd6,Nc7,Nf5+,Kf8,Ng3,Qh2,f4,Nd5', 'Rh1,Qg2,Rh8+,Ke7,Rxa8', 'https://lichess.org/training/IsAmb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Isb0W', 'Rapid', 'azzarrakk', 1771, 'cristianjarque', 1740, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,e5,Nb3,Nf6,f3,Be7,Be3,a6,Qd2,O-O,O-O-O,Be6,g4,Bxb3,cxb3,b5,Kb1,b4,Nd5,Nxd5,exd5,Nd4,Bxd4,exd4,Qxd4,a5,f4,Bf6,Qd2,g6,Bc4,Bg7,h4,f5,h5,fxg4,hxg6,hxg6,Rdg1,Qf6,Rxg4', 'Qf5+,Qd3,Qxg4', 'https://lichess.org/training/Isb0W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IsbWI', 'Blitz', 'Pelopincho_1976', 2089, 'mendrika', 2124, 'd4,d6,c4,g6,Nc3,Bg7,e4,Nc6,Be3,e5,Nge2,exd4,Nxd4,Bd7,f3,Nf6,Qd2,a6,O-O-O,Qe7,Bh6,Bxh6,Qxh6,Nxd4,Rxd4,O-O-O,Be2,Be6,Rhd1,Nd7,Nd5,Qf8,Qf4,f5,Qd2,fxe4,Rxe4,Bxd5,cxd5,Nc5,Rc4,Re8,Bd3,Qf6,Be4,Rhf8,Kb1,Qf4,Qc2,Rf7,b4,Nxe4,fxe4,Qxh2,Rc1,Ree7,Qb3,Qxg2,b5,axb5,Qxb5,Rf1', 'Rxc7+,Rxc7,Qe8#', 'https://lichess.org/training/IsbWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('isCp5', 'Bullet', 'Boby-80', 1599, 'wall_s', 1591, 'd4,d5,Bf4,c6,e3,Bf5,Bd3,Bxd3,cxd3,Nd7,Nf3,Ngf6,Nc3,e6,O-O,Be7,Rc1,O-O,a3,Ne8,h3,f5,Ne2,Nef6,Ne5,Nh5,Bh2,Nxe5,dxe5,g5,Nd4,Ng7,f3,a6,Qe1,c5,Ne2,b5,d4,c4,f4,Qe8,fxg5,Bxg5,Nf4,Bxf4,Rxf4,Kh8,Qa5,Qe7,Rcf1,Nh5,R4f2,Qg5,Bf4,Nxf4,Rxf4,Rg8,R1f2,Qg3,Qc7,Qxe3,Qe7,Rae8,Qf6+,Rg7,g4,Qxh3,g5,Rg8,Rh2,Qg3+,Kh1,Qxf4', 'Rxh7+,Kxh7,Qh6#', 'https://lichess.org/training/isCp5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IsCtg', 'Rapid', 'LieutenantChess123', 1813, 'remus995', 1651, 'e4,e5,d4,Nc6,Nf3,d6,Bc4,Bg4,O-O,Nxd4,Bxf7+,Kd7,Nxe5+,dxe5,Qxg4+,Kc6,Bd5+,Kd6,Nc3,c6,Bb3,Nf6,Qh3,Kc7,Bg5,Qd7,Rad1', 'Qxh3,gxh3,Nf3+,Kh1,Nxg5', 'https://lichess.org/training/IsCtg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iSDVP', 'Classical', 'Yura1091', 1718, 'MsConcordia', 1653, 'd4,Nf6,c4,e6,Nf3,b6,Nc3,Be7,Bg5,Bb7,e3,O-O,Bd3,d5,O-O,dxc4,Bxc4,a6,Rc1,b5,Be2,b4,Na4,a5,Ne5,Nbd7,Nc6,Bxc6,Rxc6,Nb8,Rc1,h6,Bf4,Nd5,Bf3,Ra6,Bxd5,Qxd5,Rxc7,Bf6,Qd3,Qxa2,Nc5,Ra8,Qe4,Qd5,Rc1,Bd8,Qxd5,exd5,Rb7,Bf6,Bxb8,Rfxb8,Rxb8+,Rxb8,Nd7,Ra8,Nxf6+,gxf6,Rc5,Kg7,Rxd5', 'a4,Rc5,a3,bxa3,bxa3', 'https://lichess.org/training/iSDVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('isdXd', 'Blitz', 'louisdebrechard', 1766, 'darthsalunus', 1802, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,f4,Nf6,e5,Ne4,Qe2,Qh4+,g3,Nxg3,Qf2,Be7,Qxg3,Qh5,h4,d6,exd6,Bxd6,d3,Bg4,Nd2,O-O-O,Ne4,f5,Nxd6+,Rxd6,O-O,g5,fxg5,h6,Bd2,Rg6,Rae1,hxg5,Bxg5,Rxg5,hxg5', 'Qh1+,Kf2,Rh2+,Qxh2,Qxh2#', 'https://lichess.org/training/isdXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ISeF4', 'Classical', 'StephenKyuri', 1858, 'herbgoodwin', 1785, 'e4,e5,Bc4,Nc6,a3,Nf6,f3,d5,exd5,Nxd5,Ne2', 'Qh4+,g3,Qxc4', 'https://lichess.org/training/ISeF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ISeyQ', 'Rapid', 'Chintaki', 2115, 'vscenev15', 1967, 'e4,c6,d4,d5,exd5,cxd5,h3,Nc6,c4,e6,cxd5,exd5,Nf3,Bd6,Bb5,Nf6,O-O,O-O,Nc3,Bf5,Bg5,Be7,Re1,Nb4,Ba4,Rc8,a3,Nd3,Rxe7,Qxe7,Nxd5,Qd6,Nxf6+,gxf6,Bh6,Rfd8,Nh4,Nxb2', 'Nxf5,Nxd1,Nxd6', 'https://lichess.org/training/ISeyQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IsJe6', 'Rapid', 'aig', 1908, 'Buernmacker', 1802, 'e4,d6,d4,Nf6,Bd3,c6,f4,e5,c3,Qc7,Nf3,Nbd7,O-O,Be7,Nbd2,a5,Nc4,b5,fxe5,bxc4,exf6,cxd3,fxe7,Nf6,e5,Nd5,exd6,Qxd6,Ne5,Nf6,Qxd3,Kxe7,Re1,Kf8,Bf4,Nh5,Qe3,Ba6,Ng6+,Qxg6', 'Qe7+,Kg8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/IsJe6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iSk9S', 'Rapid', 'kozde1', 1760, 'BilgeHAN68', 1774, 'e4,c5,c3,e6,d4,cxd4,cxd4,d5,e5,Nc6,Nf3,a6,a3,Nge7,Bd3,b5,O-O,g6,h4,Bg7,Be3,Nf5,Bg5,Qb6,Qc2,Nfxd4,Nxd4,Nxd4,Qd1,Nf5,Re1,Bb7,h5,Qc7,Bf6,Bxf6,exf6,Qf4,Qb3,Qg4', 'Bxb5+,axb5,Qxb5+', 'https://lichess.org/training/iSk9S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iskmg', 'Classical', 'shadalbe', 1882, 'hector1950', 1796, 'e4,d6,Nf3,Nf6,Nc3,g6,Bc4,Bg7,d4,O-O,h3,c6,Bg5,b5,Bb3,b4,Ne2,Nxe4,Bh4,a5,a3,Na6,O-O,Bb7,Re1,c5,Bc4,d5,Bd3,c4,Bxe4,dxe4,Ne5,f6,Nxc4,bxa3,Rxa3,Nb4,Rb3,Qc7,Ne3,Rf7,Bg3,Qd7,Nc4,Nd5,c3,a4,Ra3,Ba6,Rxa4,Rff8,Qa1,Qc6,b3', 'Bxc4,Rxa8,Rxa8,Qxa8+,Qxa8', 'https://lichess.org/training/Iskmg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ISLH8', 'Blitz', 'Ivantruchito', 2212, 'Elleondeprado', 2281, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d5,Bg5,Ne4,cxd5,Nxg5,Nxg5,e6,Nf3,exd5,e3,O-O,Be2,c6,O-O,Nd7,Rc1,Nf6,b4,a6,a4,Bd7,b5,axb5,axb5,Ne4,bxc6,bxc6,Nxe4,dxe4,Nd2,f5,Nb3,f4,Bg4,f3,gxf3,exf3,Bxf3,Bh3,Re1,Qg5+,Kh1,Qf5,Nd2,Kh8,Rc5,Qf7,Rg1,Ra2,Rg3,Bd7,Kg2,h5,Rc2,h4,Rxa2,hxg3,Rc2,gxf2,Kxf2,g5,h3,Qh5,Qh1,Qh4+,Ke2,c5,Rxc5,Rb8,Qg2,Bf6,Ne4,Be7,Rc7,Rb2+,Nd2,Bb5+,Kd1,Ba4+,Kc1,Ra2,Rc8+,Kg7,Rc7', 'Qe1+,Bd1,Qxd1#', 'https://lichess.org/training/ISLH8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ISmER', 'Classical', 'oldmobile', 1718, 'cheetah6996', 1609, 'd4,d5,c4,c6,cxd5,cxd5,Nf3,g6,Nc3,Bg7,Ne5,Nc6,Bf4,Nxe5,Bxe5,Bxe5,dxe5,e6,e3,Qc7,Bb5+,Bd7,Rc1,Bxb5,Nxb5,Qa5+,Nc3,Ne7,Qa4+,Qxa4,Nxa4,Nc6,Nc5,Nxe5,Nxb7,O-O,O-O,Rab8,Rc7,Rfc8,Rfc1,Nc6', 'R1xc6,Rxc7,Rxc7', 'https://lichess.org/training/ISmER');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IsNK4', 'Blitz', 'Keks100', 2213, 'Carbuncle', 1994, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,d5,Bd3,Bb4,e5,Nd7,e6,Nf6,exf7+,Kxf7,O-O,Bxc3,bxc3,Re8,c4,Kg8,Bb2,c5,cxd5,Rb8,Bxf6,Qxf6,c4,Rb2,f3,Qd4+,Kh1,Re3,Re1,Rxd3,Re8+,Kf7,Qe1,Kg6,Rxc8,Rdd2,Qe6+,Kh5,Qf5+,Kh6,Qh3+,Kg6,Rg1', 'Qxg1+,Kxg1,Rd1#', 'https://lichess.org/training/IsNK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ISNZX', 'Rapid', 'fergama24', 1680, 'pooter', 1675, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nd4,Nxd4,exd4,c3,dxc3,dxc3,Bb7,Qf3,Qf6,Nd2,Qxf3,Nxf3,Bxe4,Ng5,Bg6,Bf4,h6,Nf3,d6,O-O,Nf6,Rfe1+,Be7,Nd4,Kd7,a4,c5,Nf3,c4,Rad1,cxb3,Ne5+,Kc7', 'Nxg6,fxg6,Rxe7+', 'https://lichess.org/training/ISNZX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ISQ9E', 'Blitz', 'anonymous61596', 2285, 'mrozek98', 2331, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc6,Qc7,Nxb8,Rxb8,Bd3,Nf6,O-O,h5,f4,Ng4,Kh1,Bc5,Qe2,b5,a4,b4,Nd2,Bb7,Nb3,Ba7,Bd2,a5,Rad1,Rc8,Be1,Kf8,Bh4,Kg8,Nd2,d5,exd5,Bxd5,Ne4,Qc6,f5,exf5,Rxf5,Re8,Re1,Qb7,Rxd5,Qxd5,Nf6+,Nxf6', 'Qxe8+,Nxe8,Rxe8#', 'https://lichess.org/training/ISQ9E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ISQEX', 'Rapid', 'Edd-Edding-3000', 1681, 'FedorS123', 1654, 'd4,d5,f4,g6,e3,Bg7,c3,Bf5,Nf3,Nf6,Bd3,Ne4,O-O,O-O,Nbd2,b6,Qc2,c5,Nxe4,dxe4,Bxe4,Bxe4,Qxe4,Nd7,Ne5,Nf6,Qf3,cxd4,exd4,Qc7,b3,Rad8,Bb2,Nd5,Rac1,Bh6,c4,Nxf4,Nc6,Ne2+,Qxe2,Bxc1', 'Nxe7+,Qxe7,Qxe7', 'https://lichess.org/training/ISQEX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iSqip', 'Rapid', 'MAVERICK2205', 1873, 'G____Rahul', 1613, 'e4,e6,d4,d5,b3,c5,Bb2,Nc6,Nf3,dxe4,Nfd2,cxd4,Nxe4,f5,Ng3,Nf6,Nd2,Bb4,Bc4,a6,a4,Ne5,Be2,O-O,O-O,h5,Nc4,Nxc4,Bxc4,h4,Nxf5,Nd5,Nxd4,h3,Qh5,hxg2,Rfd1,Qf6,f3,Bc5', 'Bxd5,exd5,Qxd5+,Qf7,Qxc5', 'https://lichess.org/training/iSqip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iSQSQ', 'Bullet', 'ehabk1dragon', 2008, 'loverofchess1204', 1983, 'd4,d5,c4,e5,e3,exd4,exd4,Bb4+,Bd2,Nc6,Bxb4,Nxb4,Qa4+,Nc6,Nc3,dxc4,d5,Qe7+,Be2,Bd7,dxc6,Bxc6,Qxc4,Bxg2,O-O-O,Bxh1,Bf3,Bxf3,Nxf3,Nf6,Re1,Qxe1+,Nxe1,O-O,Nf3,c6,Qh4,h6,Ne5,Rad8,Ng4,Nxg4,Qxg4,Rfe8,Ne4,Kh8,Qf3,Re7,Ng3,Re6,Qxf7,Red6,Nf5,Rd1+,Kc2,R1d2+,Kc3,R2d3+,Kc4,b5+,Kb4,R8d7,Qf8+,Kh7,Ne7', 'R7d4+,Kc5,Rc4#', 'https://lichess.org/training/iSQSQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ISQtx', 'Blitz', 'valery61', 2143, 'Arsenikum86', 1984, 'e4,Nf6,e5,Nd5,Nc3,Nxc3,bxc3,d6,f4,dxe5,fxe5,e6,Nf3,Be7,d4,O-O,Bd3,b6,O-O,Bb7,Qe2,Nd7,Rb1,Rc8,Bd2,c5,Be4,Bxe4,Qxe4,Qc7,Bg5,Bxg5,Nxg5,g6,Qh4,h5,Rbe1,cxd4,cxd4,Qxc2,Rf2,Qc3,Ref1,Rc4,Nxf7,Qxd4,Qe7,Nxe5,Nxe5', 'Qxf2+,Rxf2,Rc1+,Rf1,Rcxf1#', 'https://lichess.org/training/ISQtx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('isQZU', 'Classical', 'IntelligentLion', 1837, 'hobob', 1935, 'd4,d5,c4,c6,Nf3,Nf6,e3,Bf5,Nc3,e6,cxd5,cxd5,Bd3,Bxd3,Qxd3,Nc6,O-O,Bd6,a3,O-O,Bd2,a6,Rac1,Rc8,Rfd1,b5,b4,Nd7,Be1,Nb6,Nd2,Nc4,Nxc4,dxc4,Qe2,Bb8,h3,Qc7,g3,Ne7,Qf3,Rcd8,Ne4,Qc6,Qg2,e5,Bc3,Nd5,Nc5,Qg6,Qe4,Qxe4,Nxe4,Nxc3,Nxc3,exd4,exd4,Ba7,d5,Rd7,Rd2,f5,Re1,Rfd8,Kg2,Kf7,f3,Rd6,g4,f4,Re4,Be3,Rd1,R8d7,Re1', 'Bd2,R1e2,Bxc3', 'https://lichess.org/training/isQZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IsRGt', 'Classical', 'hercule-poivrot', 1682, 'Philosopher-King', 1637, 'e4,c5,c3,Nc6,d4,d5,e5,cxd4,cxd4,Bf5,Nc3,e6,Nf3,Bb4,a3,Ba5,b4,Bb6,Be3,Bg4,Be2,f6,Nb5,fxe5,Nxe5,Bxe2,Qxe2,Nf6,Bg5,a6,Bxf6,gxf6', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/IsRGt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ISsGz', 'Classical', 'Tintin41', 1788, 'franc008', 1759, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,g6,Nf3,Bg7,Bc4,Nc6,O-O,Nf6,Qe2,O-O,Rd1,Qb6,Be3,Qa5,Rac1,d6,Qd2,Ng4,Bg5,h6,Bh4,g5,Bg3,Nge5,Bb3,Bg4,Qe2,Nxf3+,gxf3,Bh3,f4,Kh8,fxg5,Qxg5,Rd5,Ne5', 'f4,Qg6,fxe5', 'https://lichess.org/training/ISsGz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ISsJf', 'Blitz', 'Jpierre436', 2051, 'andrejgrig', 2071, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,b6,Qxb6,Nc3,d6,Nf3,g6,e4,Bg7,Bc4,Nbd7,Qc2,O-O,O-O,a5,a4,Ba6,Bxa6,Qxa6,Nb5,Rfc8,Bg5,c4,Rfe1,Nc5,e5,Nxd5,exd6,exd6,Qxc4,Nb6,Qf1,d5,Bf4,Bxb2,Rab1,Bg7,Nc7,Qxf1+,Kxf1,Rxc7,Bxc7,Nbxa4,Be5,Nd3,Re3,Nxe5,Nxe5,d4,Ra3,Nc3,Re1,a4,Nd3,Nb5,Raa1,a3,Reb1,Nc3,Rb3,a2,Ke1,Re8+,Kf1,Bf6,f4,Re3,Nc1,Re4,g3,Re3,Nxa2,h5,Nxc3,Rxc3,Rxc3,dxc3,Ke2,Kg7,Kd3,Kh7,h3,Kg7,g4,hxg4,hxg4,g5,fxg5,Bxg5,Ra6,Bf6,Rc6,Kg6,Ke4,Kg5,Kf3,Be5,Rc5,f6,Rc8,Kh4,Rh8+,Kg5,Rg8+,Kh4,Rg7', 'c2,Rh7+,Kg5,Rh5+,Kg6,Rh1,Bb2', 'https://lichess.org/training/ISsJf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('isTUV', 'Blitz', 'IM Zeveraar-Glen', 2613, 'yazparov', 2503, 'c4,Nf6,Nc3,g6,e4,Bg7,d4,O-O,Be2,d6,Nf3,e5,O-O,Nc6,d5,Ne7,Ne1,Ne8,Nd3,f5,Bd2,f4,Bg4,Nf6,Bxc8,Qxc8,f3,c5,Rc1,g5,b4,b6,Nb5,Qd7,Qa4,h5,bxc5,bxc5,Qa6,Ne8,Rb1,g4,Nc3,Nf6,Rb7,Qd8,Nb5,Ne8,Ba5,Qc8,Nxa7,Ng6,Qc6,Qxc6,dxc6,Rf7,Rxf7,Kxf7,Rb1,Ne7,Rb7,Ke6,Bb6,g3,a4,Nxc6,Nxc6,Rxa4,Re7+,Kf6,Rxe8', 'Ra1+,Ne1,Rxe1#', 'https://lichess.org/training/isTUV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('isumk', 'Classical', 'MFI', 1777, 'Belilav', 2082, 'e4,c5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,Nc3,g6,O-O,Bg7,d4,cxd4,Nxd4,Bd7,f4,Qb6,Ne2,Nf6,Kh1,Nxe4,Qd3,d5,c3,O-O,b4,e5,fxe5,Bxe5,Be3,Qc7,Bf4,Bxf4,Nxf4,Rae8,c4,dxc4,Qe3,Nf6,Qc3,Nd5,Qg3,Nxf4,Rxf4,Re7,Nf3,Re3,Rxc4,Qxg3,hxg3,f6,Kh2,Rfe8,Rd1,Bg4,Rf1,Re2,Rxc6,Rxa2,Rxf6,Ree2,Nh4,Bf5,Nxf5,Rxg2+,Kh3,gxf5,R1xf5,Rgb2', 'Rg5+,Kh8,Rf8#', 'https://lichess.org/training/isumk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iSVEx', 'Rapid', 'Drawish_Giri', 2168, 'N_Parma', 2103, 'd4,c5,e3,cxd4,exd4,e5,dxe5,Qa5+,Nc3,Bb4,Nf3,Bxc3+,bxc3,Nc6,Be2,Qxc3+,Bd2,Qc5,O-O,f6,exf6,Nxf6,Be3,Qe7,Bc4,d5,Bxd5,Nxd5,Qxd5,Be6,Qb5,O-O,Bc5,Rf5,Qxc6,Rxc5,Qe4,Qf6,Qxb7,Bd5,Qb4,Rxc2,Qa4,Rac8,Qxa7,Bxf3,gxf3,Qxf3,Qe3,Qc6,Rfe1,Rf8,Rad1,Rcxf2,Qxf2,Rxf2,Kxf2,Qc2+,Kg1,h5,a3,Qc5+,Kh1,h4,Rd3', 'Qc6+,Kg1,Qg6+,Kf2,Qxd3', 'https://lichess.org/training/iSVEx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('isw2U', 'Rapid', 'gmloadin', 2175, 'pemain_kampung', 2074, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,g6,Bb5,Bd7,Bxc6,Bxc6,O-O,Bg7,d3,Qb6,Kh1,Nf6,Qe1,O-O,e5,dxe5,fxe5,Bxf3,Rxf3,Ng4,Nd5,Qd8,Qh4,Qxd5,Qxg4,Qxe5,Bf4,Qxb2,Raf1,Qxc2,Rh3,Rfd8,Bh6,Rxd3,Bxg7,Rxh3,Qxh3,Kxg7,Qf3,Qf5', 'Qc3+,Qf6,Rxf6', 'https://lichess.org/training/isw2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iSxgl', 'Blitz', 'Chess_z0mbie', 1907, 'Hasanjr', 1866, 'c4,e5,Nc3,Nf6,d3,d5,cxd5,Nxd5,Nf3,Nc6,g3,Bb4,Bd2,O-O,Bg2,f5,a3,Bxc3,Bxc3,Nxc3,bxc3,e4,dxe4,fxe4,Nd4,Qf6,O-O,Bd7,Bxe4,Nxd4,Qxd4,Qf7,Bxb7,Rad8,Bd5,Be6,Bxe6,Qxe6,Qxa7,Qxe2,Qxc7,Rc8,Qa5,Qd3,a4,Rxc3,Rfd1,Qe2,Qd5+,Kh8,Qd2,Qe5,a5,Rcf3,a6,h6,a7,Qe4,Qd5,Qe2,Rf1,Rxf2,a8=Q', 'Rxf1+,Rxf1,Qxf1#', 'https://lichess.org/training/iSxgl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('isYPF', 'Rapid', 'mja1991', 1680, 'Ironeye', 1935, 'd4,e6,Nc3,d5,a3,Nf6,Nf3,Bd6,Ne5,O-O,Bf4,c5,e3,Nc6,h3,Bxe5,dxe5,Ne4,Nxe4,dxe4,Bb5', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/isYPF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ISypH', 'Rapid', 'PawKoz', 1864, 'vikips', 1815, 'Nf3,Nc6,g3,e5,d3,Nf6,Bg2,Bc5,O-O,O-O,c4,d6,Nc3,a6,a3,b5,b4,Ba7,cxb5,axb5,Nxb5,Bb6,Nd2,Bb7,Nc4,Rb8,Nxb6,cxb6,Bb2,Ne7,Bxb7,Rxb7,Rc1,Ned5,Qb3,Qd7,Nc3,Nxc3,Rxc3,Qh3,f3,d5,Rfc1,h6,Rc8', 'Rxc8,Rxc8+,Qxc8', 'https://lichess.org/training/ISypH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IsYrv', 'Rapid', 'Holm-heuSS', 2092, 'MarwanAbdalla', 1946, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Be3,Nxd4,Bxd4,c5,Bc3,Qe7,Nd2,Be6,f3,d5,exd5,Bxd5+,Qe2,O-O-O,Qxe7,Nxe7,O-O-O,Bxa2,b3,Nd5,Ba1,Bd6,Bxg7,Rhe8,Kb2,Nb4,Nc4,Be5+,Bxe5,Rxd1,Bc3,Re6,Bxb4,cxb4,g3,Ree1,Bh3+,Kb8,Rxe1,Rxe1,Kxa2,b5,Nd6,Re2,Kb2,Rxh2,Bf5,f6,Nxb5,a6,Nd4,h5,Nc6+,Kb7,Nxb4,h4,gxh4,Rxh4,Nd3,Rh5,Be6,f5,c4,Kc6,Kc3,Kd6,Bd5,a5,b4,a4,Kb2,Rh2+,Ka3,Rd2,Nb2,f4,Nxa4,Rd3+,Kb2,Ke5,Nc3,Kd4,Nb5+,Ke3,Nc3,Kd2,Ne4+,Ke3,Nc5,Rd2+,Kc3,Rd1,b5,Ke2,Kb4,Rb1+,Ka5,Ke3,b6,Kd4,Ne6+,Ke5,Nc7,Kd6,Nb5+,Kc5,Ka6,Re1,b7', 'Ra1+,Na3,Rxa3#', 'https://lichess.org/training/IsYrv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iszek', 'Classical', 'stob', 1805, 'minatovich', 1808, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nge2,Nf6,O-O,O-O,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Rd1,a6,e5,Nd7,f4,dxe5,fxe5,Bxe5,Qe4,e6,Rb1,Bg7,Be3,Qc7,Na4,Nf6,Qd3,Nd5,Bxd5,exd5,Nb6,Bf5,Nxa8,Qe7,Qd2,Rxa8,Re1,Qc7,Bd4,Qxc2,Bc3,Bxc3,Qxc3,Qxc3,bxc3,Bxb1,Rxb1,b5,Kf2,f5,Ke3,Kf7,Kd4,Ke6,Re1+,Kd6,Re5,Kc6,Rxd5,Re8,Rc5+,Kb6,Re5,Rxe5,Kxe5,Kc5,Kf6,Kc4,Kg7,Kxc3,Kxh7,Kb2,Kxg6,Kxa2,h4,Kb3', 'h5,b4,h6,Kc2,h7', 'https://lichess.org/training/Iszek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('it04U', 'Blitz', 'FM munster1', 2519, 'NM Buknoy', 2475, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f4,e5,Nf3,Nbd7,Bd3,Be7,O-O,O-O,a4,b6,fxe5,dxe5,Qe1,Nc5,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/it04U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iT0j9', 'Rapid', 'joca104', 1984, 'jp182', 1706, 'e4,e5,f4,d5,exd5,Qxd5,Nc3,Qe6,fxe5,Qxe5+,Kf2', 'Bc5+,d4,Bxd4+,Qxd4,Qxd4+', 'https://lichess.org/training/iT0j9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IT2PH', 'Rapid', 'aryystk', 1790, 'Helg_Czenski', 1771, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bb7,O-O,Bc5,Re1,Nf6,c3,Ng4,d4,exd4,cxd4,Bb4,Bd2,Qf6,e5,Qg6,a3,Bxd2,Qxd2,O-O-O,a4,Ne7,d5,Nxd5,Bxd5,Bxd5,Qxd5,d6,exd6,Rxd6,Qb3,Rhd8,axb5,Rd3,Nc3,Rxf3,gxf3', 'Ne3+,Kh1,Qg2#', 'https://lichess.org/training/IT2PH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IT7ed', 'Rapid', 'conorsheehan', 1936, 'hAcker_Sharingun', 1978, 'd4,Nf6,Nc3,g6,h4,Bg7,e4,d5,e5,Ne4,Nxe4,dxe4,h5,c5,c3,cxd4,cxd4,O-O,h6,Bh8,Be3,Nc6,Bc4,Qa5+,Bd2,Qb6,Bc3,Bf5,Ne2,Rfd8,Qd2,Nxe5,Bb3,Nd3+,Kf1,e5,d5,a5,Ng3,a4,Bc2,Rxd5,Nxf5,gxf5,Bxd3,Rxd3,Qg5+,Qg6,Qe7,Rad8,Rh2,Qa6,Ke1,a3,Rh5,Qe6', 'Rg5+', 'https://lichess.org/training/IT7ed');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('it7tf', 'Blitz', 'mahmoudnassr3536', 2179, 'Bestia_Negra', 2240, 'd4,e6,Nf3,Nf6,e3,b6,b3,Bb7,Bb2,Bb4+,c3,Be7,Nbd2,O-O,Bd3,d5,O-O,c5,Ne5,Nbd7,f4,Ne8,Rf3,f6,Bxh7+,Kxh7,Rh3+,Kg8,Ng6,f5,Rh8+,Kf7,Qh5,Rxh8,Nxh8+,Kg8,Ng6,Ndf6', 'Qh8+,Kf7,Ne5#', 'https://lichess.org/training/it7tf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iT8sq', 'Blitz', 'JOSBERE', 1870, 'joeycracks456', 1870, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Be2,c5,Be3,Qa5,Qd3,cxd4,Bxd4,Bxd4,Qxd4,O-O,Nf3,Nc6,Qd2,Rd8,Qc2,Bg4,O-O,Bxf3,Bxf3,Rac8,Qb3,Ne5,Qxb7,Nxf3+,gxf3,Qg5+,Kh1,Qf4,e5,Rxc3,Rad1,Rxd1,Rxd1,Rxf3,Qxe7,Rxf2', 'Rd8+,Kg7,Qf8#', 'https://lichess.org/training/iT8sq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ItBMG', 'Rapid', 'menofnoego', 1811, 'Yahyabehery444', 1826, 'd4,d5,Nf3,e6,Bf4,Nf6,e3,Nc6,c3,Bd6,Nbd2,Bxf4,exf4,O-O,Ne5,Ne4,Bd3,f6,Nxe4,dxe4,Nxc6,bxc6,Bxe4,Qd6,Qf3,Rb8,b3,c5,Rd1,f5,Bc6,cxd4,Rxd4,Qa3,Qe2', 'Qc1+,Qd1,Qxc3+', 'https://lichess.org/training/ItBMG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iTc5o', 'Blitz', 'Sanro61', 1867, 'lcutaran', 1887, 'd4,Nf6,e3,e6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,a3,d5,b4,c6,c4,dxc4,Bxc4,b5,Bd3,a5,Rb1,axb4,axb4,Nd5,Qc2,h6,Ne5,Qd6,Qb3,Nd7,Ne4,Qc7,Nxd7,Bxd7,Nc5,Be8,g4,Qe7,h3,Qh4,Qc2,h5,Be2,hxg4,Bxg4,Nxe3,Qe4,Nc4,Nxe6,fxe6,Bxe6+,Bf7,Bxf7+,Rxf7,Qxh4,Re8+,Kd1,Rf3,Re1,Rd3+,Kc2,Rd2+,Kb3,Ra8,Ra1,Rd3+,Kc2,Rd2+,Kb3,Rd3+,Kc2,Rd2+,Kb1', 'Rb2+,Kc1,Rxa1#', 'https://lichess.org/training/iTc5o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ITCRb', 'Rapid', 'Ghaith133', 1666, 'Olga-1966', 1714, 'Nf3,d5,g3,e6,d4,c5,Bg2,cxd4,O-O,Nc6,Nxd4,Nxd4,Qxd4,Nf6,Qa4+,Bd7,Qb3,b6,Bg5,Be7,e4,Nxe4,Bxe7,Qxe7,Nc3,Nf6,Rae1,O-O,Nxd5,Nxd5,Bxd5,Rad8,Bg2,Qc5,Rd1,Bb5,a4,Bxf1,Rxf1,Rd2,Be4,Rfd8,Bd3,a5,Kg2,Qd5+,Qxd5,Rxd5,b3,f5,Kh3,g6,f4,Kg7,Re1,Rd6,Re5,Kf6,Rb5,Rd5,Rxb6,R2xd3,cxd3,Rxd3,Rb5,h5,Rxa5,Rxb3,Ra8,Ra3,a5,e5,fxe5+,Kxe5,a6,Ra4', 'a7,Kf6,Rf8+', 'https://lichess.org/training/ITCRb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iTE1V', 'Rapid', 'Gounder_Rajan', 1684, 'SahteNaka', 1651, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Nxe5,Nxe5,Qe7,cxd4,d6,Be2,dxe5,dxe5,Qxe5,O-O,Bb4,a3,Ba5,g3,O-O,Bf4,Qxb2,Nd2,Bh3,Re1,Nd5,Rb1,Qa2', 'Bc4,Qxa3,Bxd5', 'https://lichess.org/training/iTE1V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iTec2', 'Rapid', 'Akthamchess', 2049, 'Merovic', 2178, 'e4,c5,Nf3,g6,Bc4,Bg7,c3,Nc6,O-O,d6,Re1,Nf6,d4,cxd4,cxd4,O-O,Nc3,Bg4,Be2,Qb6,d5,Nb8,h3,Bxf3,Bxf3,Nbd7,Rb1,Rac8,Be3,Qa6,Be2,Qa5,Qb3,Nc5,Bxc5,Rxc5,Qxb7,Rc7,Qa6,Qb4,a3,Qb3,Qb5,Qc2,Red1,Rc5,Qa4', 'Rxc3,Qxc2,Rxc2', 'https://lichess.org/training/iTec2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Itet5', 'Rapid', 'ArneStroobant', 1827, 'papu_sahu_1998', 1807, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,bxc3,Be7,d4,O-O,Bd3,Nd7,O-O,Nb6,Bf4,Bg4,h3,Bh5,Be2,Nd5,Bd2,Re8,c4,Nf6,Rb1,b6,d5,Ne4,Nd4,Bg6,Nc6,Qc8,Nxe7+,Rxe7,Be3,Nc3,Qc1,Nxb1,Qxb1,Qa6,Re1,Rae8,c5,Qa4,Bb5,Qxc2,Qxc2,Bxc2,Bxe8,Rxe8,cxb6,axb6,Rc1,Be4,Rxc7,Bxd5,Bxb6,Bxa2,Rd7,d5,f4,h6,g4,Re2,Rd8+,Kh7,g5,hxg5,fxg5,Re5,h4,Re4,h5,Rg4+,Kh2,Rxg5,h6,g6,Bd4,Rh5+,Kg3,Kxh6,Kg4,f5+,Kf4,Rh4+,Ke3,f4+,Kf3,g5,Rh8+,Kg6,Rg8+,Kf5,Rf8+,Ke6,Rf6+,Kd7,Rf7+,Ke8,Rf5,Rh5,Re5+,Kf7,Kg4,Kg6', 'Re6+,Kf7,Rf6+,Ke8,Kxh5', 'https://lichess.org/training/Itet5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itFcb', 'Rapid', 'alysskel', 1698, 'Nantenaina', 1687, 'Nf3,d5,g3,Nc6,d4,Nf6,Bg2,h6,O-O,Bf5,c3,Qd7,Ne5,Nxe5,dxe5,Ng4,Bxd5,O-O-O,Qd4,Qxd5,Qxa7,b6,f3,Nxe5,Bf4,f6,b4,Qb7,Qa4,Bd7,Qb3,Bb5,Bxe5,fxe5,c4,Bd7,Nc3,e6,Ne4,Bc6,c5,bxc5,Qxe6+,Rd7,Rfd1,Bd6,Nxc5,Bxc5+,bxc5,Qb2', 'Qxc6,Rxd1+,Rxd1', 'https://lichess.org/training/itFcb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Itgik', 'Classical', 'Naiktl', 1849, 'owino', 1637, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Bf4,Nd7,Nc3,Ngf6,Bd3,Ne5,Nf3,Nxd3+,Qxd3,Bg4,h3,Be6,O-O-O,O-O,Ng5,a6,Nd5', 'Nxd5,exd5,Bxg5,Bxg5,Qxg5+', 'https://lichess.org/training/Itgik');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ITGtv', 'Rapid', 'iklimi-Rum', 1769, 'Asigno', 1783, 'd4,d5,Bf4,Nf6,c3,Bf5,e3,Nc6,Nd2,e6,Bb5,a6,Bxc6+,bxc6,Qa4,Qd7,Ngf3,Bd6,Bxd6,cxd6,c4,O-O,cxd5,exd5,Rc1,Rfc8,O-O,Ne4,Nxe4,dxe4,Nh4,Be6,Rc3,g5,Qc2,Bd5,f3,gxh4,fxe4,Be6,d5,cxd5,exd5,Bxd5,e4,Rxc3,bxc3,Bc4,Rf4,Qe7,Qa4,Bd3,Rg4+,Kf8,Qd4,Be2', 'Qh8#', 'https://lichess.org/training/ITGtv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ithkw', 'Rapid', 'makemydayrubberduck', 2202, 'asdfchessplayer', 1983, 'e4,c6,c4,e6,Nc3,Bb4,Nf3,Ne7,a3,Bxc3,dxc3,d5,cxd5,exd5,exd5,Nxd5,Bd3,h6,O-O,O-O,c4,Nf6,h3,Be6,b4,Nbd7,Bb2,c5,Qc2,cxb4,axb4,a5,bxa5,Rxa5,Rad1,Qc7,Rfe1,Nc5,Bxf6,gxf6,Bh7+,Kg7,Nd4,Bxc4,Qxc4,Kxh7,Rc1,b6,Nf5,Ra4', 'Qxa4,Nxa4,Rxc7', 'https://lichess.org/training/ithkw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IthqV', 'Blitz', 'masudxray', 1821, 'Tema108', 1829, 'e4,a6,Bc4,b5,Bb3,Bb7,Qf3,e6,d3,c5,Nc3,b4,Nce2,d6,a3,a5,axb4,axb4,Rxa8,Bxa8,Nh3,Nd7,O-O,Ngf6,Bg5,Be7,Bxf6,Nxf6,Ra1,O-O,Nef4,h6,Nh5,Bc6,Nxf6+,Bxf6,Rb1,Bb5,Nf4,Qd7,Nh5,Qe7,h3,Bd4,Qe2,Bc6,c3,bxc3,bxc3,Bxc3,Nf4,Be5,Nh5,Rb8,f4,Bd4+,Kh1,Ba4,Ba2,Rxb1+,Bxb1,Bc6,Qg4,d5,e5,g6,Nf6+,Kg7,h4,c4,h5,c3,hxg6,fxg6,Qd1,g5,g3,gxf4', 'Qg4+,Kh8,Qg8#', 'https://lichess.org/training/IthqV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iThZf', 'Rapid', 'BadBeat2007', 1994, 'osothe', 2010, 'e4,c5,Nf3,d6,Bc4,a6,a3,b5,Ba2,Bb7,O-O,Nd7,d4,cxd4,Nxd4,e5,Nf5,Nc5,Nc3,Nxe4,Nxe4,Bxe4,Ne3,Nf6,Re1,Be7,Nd5,Bxd5,Bxd5,Nxd5,Qxd5,O-O,b4,Qc7,Re2,Rac8,Be3,Qc4,Qd1,f5,Rc1,f4,Bb6,Bd8,Bxd8,Rfxd8,Rd2,Qc6,Rd5,Rc7,Rxe5,dxe5,Qxd8+,Kf7,Qg5,Qf6,Qg4,Qe6,Qh5+,Qg6,Qe2,Qf5,h3,f3,Qd3', 'Qxd3,cxd3,Rxc1+', 'https://lichess.org/training/iThZf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iti03', 'Rapid', 'wirmius', 1760, 'Aleks1962', 1750, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,d6,Nxc6,bxc6,Qh5,g6,Qf3,Bf6,O-O,Qe7,e5,Bxe5,Qxc6+,Kf8,Qxa8,Qd7,Ba6,Ne7,Nc3,Kg7,Bxc8,Rxc8,Qxa7,Qg4,Be3,Nf5,h3,Qh4,f4,Bf6,Qb7,Re8,Bd2,Bd4+,Kh2,Qg3+,Kh1,Qh4,Be1,Rxe1,Rfxe1,Ng3+,Kh2,Qxf4,Qf3', 'Nf1+,Kh1,Qh2#', 'https://lichess.org/training/Iti03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itiCj', 'Rapid', 'kent67438', 1680, 'Polami', 1691, 'e3,e5,d3,d5,Ne2,Nc6,Ng3,Nf6,Be2,Bd6,O-O,e4,dxe4,dxe4,Nc3,Bxg3,fxg3,O-O,a3,Qe7,Bc4,Be6,Bxe6,Qxe6,Qe2,a6,Rf4,Rad8,Bd2,Rd7,Be1,Rfd8,Rd1,Nd5,Rxe4', 'Nxc3,bxc3,Qxe4,Rxd7,Rxd7', 'https://lichess.org/training/itiCj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ItiTx', 'Rapid', 'LeBlaBlaZ', 1645, 'dewichess', 1657, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,d4,exd4,Re1,Be7,c3,dxc3,Nxc3,O-O,a3,Be6,Nd5,Nxd5', 'exd5,Bd7,dxc6', 'https://lichess.org/training/ItiTx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itJ8u', 'Blitz', 'CblHOK', 1667, 'evgeni47', 1666, 'e4,d5,exd5,c6,dxc6,Nf6,Nf3,e6,Bb5,bxc6,Bc4,Bb7,Nc3,Nbd7,d3,a6,a3,Ng4,h3,Ngf6,Bg5,Qc7,Qd2,O-O-O,O-O-O,Be7,Bf4,e5,Bg3,Qa5,Rhe1,Bxa3,bxa3,Qxa3+,Kb1,Kb8,Nxe5,Nxe5,Bxe5+,Ka8,Na2,Nd5,Bxd5,Rxd5,Qc3,Rb5+,Ka1,Qf8,Rb1,f6,Rxb5,cxb5,Bd4,Qd6,Bc5,Qd5,Re7,Rc8,d4,Qxg2,Qa5,Qf1+,Kb2,Qc4,Nb4,Kb8,Qxa6,Bxa6', 'Nxa6+,Ka8,Ra7#', 'https://lichess.org/training/itJ8u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ITJdK', 'Classical', 'alokkumaar', 1814, 'mbcx9', 1748, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,g6,c3,Nf6,d3,Bg7,Bg5,O-O,Qd2,e6,Bh6,a6,Bxg7,Kxg7,Qe3,Re8,h3,d5,Bb3,d4,cxd4,cxd4,Qf4,e5,Qd2,Be6,Bxe6,Rxe6,Na3,Nd7,Nh2,Qe7,f4,Rf8,Ng4,Nf6,Nc4,Nxg4,hxg4,Qh4,f5,Rf6', 'g5,Rxf5,exf5', 'https://lichess.org/training/ITJdK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ItJMx', 'Rapid', 'Nawelz', 1664, 'psogden2', 1879, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,f6,O-O,Bg4,h3,Bh5,Nbd2,Bc5,Nb3,Bb6,Qe2,Ne7,Be3,O-O,Bc5,Qd7,Qe3,Rfe8,g4,Bf7,Bxb6,Bxb3,axb3,cxb6,Qxb6,Ng6,Kh2,Nf4,Qe3,h5,Rg1,hxg4,Rxg4,Kf7,Nh4,Rh8,Rag1,Rh7,R1g3,Nxh3,Kxh3', 'Rxh4+,Kg2,Rxg4', 'https://lichess.org/training/ItJMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ITJxM', 'Blitz', 'Verydarkk', 1662, 'take1pay2', 1671, 'c4,Nf6,d4,g6,Nc3,Bg7,g3,O-O,Bg2,c6,Bg5,a5,e4,h6,Be3,d5,e5,Ng4,cxd5,Nxe3,fxe3,cxd5,Nxd5,Nc6,Ne2,Be6,Nec3,f6,exf6,exf6,O-O,b5,Nxf6+,Bxf6,Bxc6,Rb8,Bxb5,Bh3,Rf2,Bg5,Qc2,Kg7,Rxf8,Qxf8,Re1,Qf3,Qe2', 'Bxe3+,Qxe3,Qg2#', 'https://lichess.org/training/ITJxM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itKjg', 'Rapid', 'ElnurAS', 1815, 'Paczer', 1845, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,Nc6,Nc3,d6,Bc4,Nf6,Be3,O-O,O-O,e5,d5,Ne7,Qd2,Ng4,Bg5,f5,h3,Nf6,exf5,Bxf5,Bh6,Rf7,Ng5', 'Bxh6,Nxf7,Bxd2', 'https://lichess.org/training/itKjg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itlhm', 'Classical', 'Clabbe', 1928, 'hishamahmed1960', 1839, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d5,Bxd5,Nb4,Bxf7+,Kxf7,Ne5+,Ke6,Qg4+,Kd6,Nf7+,Ke7,Qh4+,Kxf7,Qxd8,Nxc2+,Kd1', 'Bg4+,Kxc2,Rxd8', 'https://lichess.org/training/itlhm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ITLUD', 'Rapid', 'TheTerrible', 1811, 'Trui', 1750, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,O-O,Bg4,d4,Nf6,c3,e6,Bg5,h6,Bxf6,Qxf6,Nbd2,Bd6,Qb3,O-O,Bxc6,bxc6,Qa4,c5,Qc6,Qe7,dxc5,Bxc5,b4,Rac8,Qa6,Bb6,Ne5,Qg5,Nd7,Qxd2,Nxb6,axb6,Qxb6,Qxc3,a4,Rb8,Rfc1,Rxb6,Rxc3,Rxb4,f3,Bf5,a5,Ra8,a6,Rb1+,Rxb1,Bxb1,Rb3,Bh7', 'a7,Bf5,Rb8+,Rxb8,axb8=Q+', 'https://lichess.org/training/ITLUD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itmkn', 'Blitz', 'aadit1709', 2329, 'IM LittlePumpkin', 2591, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,Be7,Nc3,Na5,Bb5+,c6,Ba4,b5,Bb3,Nf6,d3,c5,Nxb5,O-O,Bd2,Nxb3,axb3,Qb6,Na3,Be6,h3,h6,Bc3,g6,Qd2,Nh5,Qxh6,Qd8,Nc4,Re8,Ra6,Nf4,Nxd6,Ne2+,Kh1,Bf8,Qh4,Bxd6,Rxd6,Qxh4,Nxh4,Nxc3,bxc3,a5,Ra1,Reb8,Nf3,a4,bxa4,Rb2,Nxe5,Rxc2,c4,Rxf2,Nxg6,Kg7,Nh4,Rh8,Nf5+,Kf6,Kg1,Rb2,a5,Ke5,a6,Bxf5,exf5', 'Kxd6,a7,Ra8', 'https://lichess.org/training/itmkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itMnv', 'Rapid', 'chessspros', 2131, 'shayanaghaie', 2111, 'e4,Nf6,e5,Nd5,Bc4,e6,Nc3,d6,d4,Nxc3,bxc3,dxe5,dxe5,Qxd1+,Kxd1,Bc5,Ke2,O-O,f4,b6,Nf3,Bb7,Be3,Bxe3,Kxe3,Bxf3,Kxf3,Nd7,Bb5,Nc5,Rad1,Rfd8,Rd4,Kf8,Rhd1,Ke7,g4,a6,Bd3,Rd7,Rd2,h6,Be4,Rh8,Bc6,Rdd8,f5,h5,Rxd8,hxg4+,Kxg4,Rxd8', 'f6+,gxf6,exf6+,Kxf6,Rxd8', 'https://lichess.org/training/itMnv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ItnAg', 'Rapid', 'mokoto', 1871, 'moeXtr', 1794, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Nc6,a3,Bg4,f3,Bh5,Be2,Be7,O-O,O-O,f4,Bxe2,Qxe2,Rc8,f5,d5,Rad1,d4,Nxd4,exd4,Bf2,Qb6,Nd5,Qxb2,Nxe7+,Nxe7,Bxd4,Rxc2,Qf3,Qa2,Qg3,Kh8,Ra1,Qc4,Bxf6,gxf6,Qh4,Qd4+,Kh1,Rg8,g3,Rg7,Rad1,Qe5,Rd8+,Rg8,Rxg8+,Kxg8,Rd1,Nc6,Qg4+,Kf8,Qh4,Ke7,Qg4,Nd4,Re1,Qc5,Qh5,Rc1,Rxc1,Qxc1+,Kg2,Qd2+,Kh3,Qe3,Qh4,Nf3,Qg4,Nd2,e5,Qxe5,Qb4+,Ke8,Qxd2,Qxf5+,Kg2,Qd7,Qe3+,Kf8,Qh6+,Kg8,Qxf6,Qc6+,Qxc6,bxc6,Kf3,Kg7,Ke4,Kf6,Kd4,Ke6,Kc5,Kd7,a4,Kc7,a5,h5,h3,f5,h4,Kb7', 'Kd6,c5,Kxc5,Kc7,Kd5', 'https://lichess.org/training/ItnAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ITNgo', 'Blitz', 'Ridihc264', 1869, 'AntorsAAA', 1766, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,a6,Bxc6,dxc6,Nxe5,Bd6,Nf3,Bg4,Nbd2,O-O,h3,Bh5,O-O,Be7,Re1,g5,Nc4,g4,hxg4,Nxg4,Ne3,Kh8,Nf5,Bb4,Bd2,Bxd2,Qxd2,Nf6,Qh6,Rg8,Re3,Ng4,Qxh5,Nxe3,fxe3,Qf6,Kf2,Qxb2,Qxh7+,Kxh7', 'Rh1+,Kg6,Rh6#', 'https://lichess.org/training/ITNgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iTNoT', 'Blitz', 'MPIgorPower', 1843, 'lukit16', 1780, 'd4,d5,c4,dxc4,e4,e6,Bxc4,a6,Nc3,Bb4,Nf3,Nf6,O-O,Bxc3,bxc3,Nxe4,Qc2,Nf6,Ba3,b5,Bb3,Bb7,Ne5,Nbd7,f4,Nxe5,dxe5,Nd5,Rad1,Qh4,Bxd5,Bxd5,Rxd5,exd5,Qf5,Qd8,e6,f6,Qh5+,g6,Qg4,f5,Qe2,Rc8,Qe5,Rg8,Rd1,c6,Bc5,Qc7,Bd6,Qb7,h4,a5,e7,Ra8,Qe6,Rg7,Qf6,Rf7,Qh8+,Kd7,Qe5,Ke8,Re1,a4,Qh8+,Kd7,e8=Q+,Rxe8,Qxe8+,Kxd6,Qe5+,Kd7,Qe6+,Kd8,Qd6+,Qd7', 'Qb8+,Qc8,Re8+,Kxe8,Qxc8+', 'https://lichess.org/training/iTNoT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ITPKX', 'Rapid', 'Vik2198', 2035, 'kingsmen99', 2027, 'Nc3,d5,Nf3,Nf6,Nb1,c5,Ng1,Nc6,Nc3,g6,Nb1,Bg7,Nf3,e5,Ng1,O-O,e3,d4,Ne2,a6,d3,b5,b3,Bb7,Bb2,Re8,e4,Rc8,Nd2,a5,a4,Ba6,axb5,Bxb5,g3,Nb4,Nc1,Bh6,Be2,a4,bxa4,Ba6,O-O,Bxd2,Qxd2,Qb6,Ba3,Nc6,Na2,c4,Rfb1,Qa7,Nb4,Nxb4,Rxb4,cxd3,Bxd3,Rc3,Bb2,Rc6,Bb5,Bxb5,axb5,Qc5,bxc6,Nxe4,Qe1,Qxc6,Ra7,Qxc2,Rbb7,Ng5,Kg2,Qc6+,Kf1,Qh1+,Ke2,Qf3+,Kf1,Qh1+,Ke2,d3+,Kd1,Qf3+,Kc1,Qc6+,Kb1', 'Qc2+,Ka2,d2,Qe2,d1=Q,Qxd1,Qxd1', 'https://lichess.org/training/ITPKX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iTQqk', 'Classical', 'Miramo', 1859, 'PSVPlaysChess', 1802, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,e5,Qg6,Qd3,Qb6,Be2,d6,Qe4,Be6,O-O,dxe5,Qxe5,Nf6,Be3,c5,Nc3,Bd6,Bb5+,Kf8,Qg5,h6,Qh4,Kg8,b4,g5,Bxg5', 'hxg5,Qxg5+,Kf8', 'https://lichess.org/training/iTQqk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itQZX', 'Rapid', 'shelkow', 1616, 'JaviMartinez', 1744, 'd4,d5,e3,Nf6,c4,g6,a3,Bg7,b4,O-O,Nc3,dxc4,Bxc4,Nbd7,Nd5,Nxd5,Bxd5,Nb6,Bb3,Bf5,Nf3,Nd5,Bxd5,Qxd5,O-O,Rad8,Re1,Be4,Bb2,b6,Kh1,Rd7,Nh4,g5,f3,gxh4,fxe4,Qxe4,h3,Rd6,Qe2,Rg6,Rg1,Bh6,Bc1,Rd8,Qf3,Rxd4', 'exd4,Qxf3,gxf3', 'https://lichess.org/training/itQZX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ITRrw', 'Rapid', 'Kadex-Subali', 1878, 'kingnf3', 1907, 'd4,Nf6,Nc3,d5,Nf3,e6,Bg5,Be7,Bxf6,Bxf6,e4,dxe4,Nxe4,Be7,Bb5+,c6,Ba4,b5,Bb3,a5,a3,a4,Ba2,Ba6,O-O,b4,Re1,bxa3,bxa3,Bxa3,c4,O-O,Qxa4,Bb7,Qxa3,Rxa3,d5,cxd5,cxd5,exd5,Red1,Qe7,Ng3,d4,Bxf7+,Qxf7,Rxa3,Bxf3,Rxf3,Qe7,Rxf8+,Qxf8,Rxd4,Nc6,Rc4,Qe8,h3,Na5,Re4,Qd8,Nf5,Qd1+,Kh2,Qd5', 'Ne7+,Kf7,Nxd5', 'https://lichess.org/training/ITRrw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ITrVu', 'Blitz', 'MoiAbarca', 1867, 'roniel1980', 1876, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Bb5,Bd7,O-O,Nf6,Nc3,Be7,Re1,O-O,Be3,Ne5,Bxd7,Qxd7,Nf5,Nfg4,Nd5,Bf6,Nxf6+,Nxf6,Bf4,Rfe8,h3,Ng6,Qf3,Nxf4,Qxf4,Re5,Nh6+,Kh8,f3,Qe6,Nf5,Rg8,Rad1,Nh5,Qg4,Qg6,Kf2,Qxg4,hxg4,Nf4,g3,Ne6,f4,Rc5,Rh1,Rxc2+,Ke3,Rxb2,Ne7,Re8', 'Rxh7+,Kxh7,Rh1+,Rh2,Rxh2#', 'https://lichess.org/training/ITrVu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iTsGL', 'Rapid', 'Hov1974', 1786, 'Manoel_Lima', 1809, 'e4,c5,Bc4,d6,d3,Nc6,c3,e6,Be3,Nf6,h3,Be7,Nd2,h6,Ne2,a6,a3,b5,Ba2,Bb7,f3,Ne5,d4,cxd4,cxd4,Nd3+,Kf1,Nh5,Qb3,Nxb2,Qxb2,Bh4,g4,Ng3+,Nxg3,Bxg3,d5,exd5,Qxg7', 'Be5,Qxe5+,dxe5', 'https://lichess.org/training/iTsGL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iTTnm', 'Rapid', 'LearningasIgo', 1663, 'Nokman082447', 1699, 'd4,d5,e3,Nc6,Bb5,a6,Bxc6+,bxc6,Qd3,Nf6,Qc3,Bb7,Qb3,Rb8,Qd3,Ne4,f3,e6,fxe4,Qh4+,Kd1,Qf2,Qe2,Qxe2+,Nxe2,dxe4,Nbc3,c5,dxc5,Bxc5,Rf1,Rd8+,Bd2', 'Bxe3,Nb1,Bxd2,Nxd2,e3', 'https://lichess.org/training/iTTnm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IttYY', 'Rapid', 'komaro2', 1985, 'jorgenostensen', 1993, 'e4,d6,d4,Nf6,f3,g6,c4,Nc6,Nc3,e5,d5,Ne7,Be3,Bg7,Qd2,O-O,Bd3,c6,Nge2,cxd5,cxd5,Nh5,g4,Nf4,Nxf4,exf4,Bxf4,f5,h3,fxe4,fxe4,Qb6,Be3,Qa5,Rf1,Rxf1+,Kxf1,Bd7,Kg2,Re8,a3,Nc8,Rb1,a6,Ne2,Qa4,Nc3,Qa5,Qe2,Bxc3,bxc3,Qxc3,Rxb7,Bb5,Bxb5,axb5,Kf3,Rf8+,Kg2,Qxa3,Rxb5,Qa1,Rb4,Qe5,Bd4,Qf4,Qf2', 'Qxe4+,Kg1,Rxf2', 'https://lichess.org/training/IttYY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ITUi5', 'Rapid', 'vasiliy5023', 2086, 'Dragon-Lord', 1980, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nc3,e6,a3,Be7,Nf3,O-O,h4,c5,d5,exd5,exd5,Bf6,Bd3,Bxc3+,bxc3,Nxd5,Bxh7+,Kh8,Ng5,Nxc3,Qh5,Re8+,Kf1,Qd1+,Qxd1,Nxd1,Bc2,Nc3,Nxf7+,Kg8,Ng5,Nc6,Bb3+,Kh8,Bb2,Na5,Bf7,Na4,Bxg7+,Kxg7,Bxe8,Nb6,Bb5,Bf5,Re1,c4,Kg1,c3,Kh2,c2,Re7+,Kf6,Rc7,Nd5,Rc5,Nf4,Rxf5+,Kxf5,g3,Rc8,Rc1,Nb3,Bd7+,Ke5,gxf4+,Kxf4,Nh3+,Kf3,Bxc8,Nxc1,Bf5', 'Nd3,Bxd3,c1=Q', 'https://lichess.org/training/ITUi5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itUOD', 'Classical', 'burak85', 1834, 'emss', 1791, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,Qc7,Bb3,Nf6,Qc2,g6,Nxc3,Bg7,Nf3,Na6,O-O,O-O,Be3,b6,Qd2,Ng4,Bf4,Qc5,h3,Nf6,Bh6,Bb7,Bxg7,Kxg7,Rae1,e5,Kh1,Nc7,Nd5,Ncxd5,exd5,d6,Rc1,Qb5,Bc4,Qa4,b3,Qa3,Nh4,Rac8,f4,b5,fxe5,dxe5,Qg5,Qd6,Bxb5,Rxc1,Rxc1,Bxd5', 'Nf5+,Kg8,Nxd6', 'https://lichess.org/training/itUOD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itv2v', 'Rapid', 'baaarca', 1763, 'pedrozeff', 1640, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d3,Nc6,Qf3,Qe5+,Qe3,Qxe3+,fxe3,Bg4,a3,O-O-O,Be2,Bxe2,Nxe2,e5,e4,Nd4,Nxd4,Rxd4,O-O,Bc5,Kh1,Bb6,Be3,Rd7,Bxb6,axb6,b4,h5,h3,g5,a4,Rh6,a5,bxa5,Rxa5,c6,Rxe5,Rd4,Rxg5,Rxb4,Rgf5,Rb2,Rxf7,Rxc2,R1f2,Rc3,d4,Rd3,Rf8+,Kc7,R2f7+,Kb6,Rd8,Rg6,Rf2,Kc7,Re8,Rxd4,e5,Re4,Rf6,Rxf6,Re7+,Kb6,exf6,Rf4,f7,c5,Kh2,c4,Kg3,Rf6', 'Re6+,Rxe6,f8=Q', 'https://lichess.org/training/itv2v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itVbJ', 'Rapid', 'Zozori', 1639, 'Buliran', 1693, 'd4,e6,d5,exd5,Qxd5,Nf6,Qd1,d5,Bg5,Be7,h3,O-O,e3,c6,Bd3,Nbd7,Nd2,Ne5,Ndf3,Ng6,Bxg6,fxg6,Bxf6,Bxf6,Nd4,Re8,Nge2,Qb6,b3,c5,O-O,cxd4,Nxd4,Bxd4,exd4,Bf5,c3,Rac8,Qd2,Qb5,Rfe1,Rxe1+,Rxe1,Re8,Re5,Rxe5,dxe5,Kf7,Qd4,Be6,Qxa7,g5,Qd4,h5,Qe3,Kg6,f4,gxf4,Qxf4,Bf5,Qg3+,Kf7,Qg5,Bg6', 'e6+,Kxe6,Qxg6+', 'https://lichess.org/training/itVbJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itWE6', 'Classical', 'Magic_Ship', 1633, 'PANORMOS', 1729, 'd4,Nf6,Nf3,d5,c4,c6,Nc3,dxc4,a4,Bf5,e3,e6,Bxc4,Bb4,O-O,Nbd7,Ne2,Nb6,Bb3,O-O,Ng3,Bd6,Nxf5,exf5,Qe2,a5,Ng5,Re8,Qd3,Nbd5,Qxf5,h6,Nf3,g6,Qb1,Ne4,Bc2,Qe7,Nd2,Bxh2+,Kxh2,Nec3,bxc3,Nxc3,Qb3', 'Qh4+,Kg1,Ne2#', 'https://lichess.org/training/itWE6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iTwVK', 'Rapid', 'Artemkov', 1891, 'YDxVCT', 1944, 'd4,Nf6,Nf3,g6,c3,Bg7,Qc2,O-O,Bf4,d6,e4,Nc6,Nbd2,d5,e5,Nd7,h4,Nb6,h5,Bf5,Bd3,e6,h6,Bh8,Ng5,Nd7,Nb3,f6,Bxf5,exf5,Ne6,Qe7,Nxf8,Rxf8,O-O-O,fxe5,dxe5,Bxe5,Bxe5,Ncxe5,Rxd5,Qg5+,Nd2', 'Qxg2,Qb3,Qxh1+', 'https://lichess.org/training/iTwVK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ityIZ', 'Rapid', 'Dronacharya10', 1719, 'sorinbuzura', 1639, 'e4,c5,Nf3,e6,c3,Nc6,Bc4,d5,exd5,exd5,Bb3,Nf6,O-O,Bd6,c4,d4,d3,O-O,Bg5,h6,Bh4,Bg4,Nbd2,Bxf3,Nxf3,Ne5,Re1,Nxf3+,Qxf3,b6,Re2,Bc7,Rae1,Qd6,Bg3,Qd8,Bh4,g5,Bg3,Bxg3,fxg3,Kg7,Rf1,Re8', 'Rxe8,Qxe8,Qxf6+', 'https://lichess.org/training/ityIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ityJe', 'Rapid', 'joshphorlarb', 1834, 'SabiSenpai', 1940, 'e4,c5,Nf3,d6,d3,Nc6,g3,g6,Bg2,Nf6,Nc3,Bg7,Bg5,h6,Be3,Be6,O-O,O-O,d4,cxd4,Nxd4,Bd7,Nce2,Ng4,Nxc6,Bxc6,Bd4,e5,Bc3,Qb6,Qxd6,Rad8,Qb4,Bf6,Qxb6,axb6,Rfd1,Be7,h3,Nf6,Bxe5,Nxe4,Rxd8,Rxd8,Kf1,Bf6,Bxf6,Nxf6,Bxc6,bxc6,Ke1,Ne4,f3,Ng5,Ng1,c5,h4,Ne6,Rd1,b5,Rxd8+,Nxd8,Kd2,Kg7,Ne2,Kf6,b3,g5,hxg5+,Kxg5,a4,b4,c3,bxc3+,Kxc3,Nc6,Nf4,Nd4,Nd3,Nxf3,a5,Nd4,Nxc5,Nc6,Kc4,Kg4,a6,Kxg3,b4,h5,b5,Ne5+,Kd5,Ng6,a7,Ne7+,Kd6,Nc8+,Ke5,Nxa7,b6,Nc6+,Kf6,h4,Ne4+,Kf4,Ng5,h3,Nxh3+,Kg3', 'Ng5,Na5,Nxf7', 'https://lichess.org/training/ityJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('itYql', 'Rapid', 'KomodoB', 1728, 'WannabeGMtoo', 1722, 'e4,c5,Nf3,a6,c3,b5,d4,Bb7,Qc2,cxd4,cxd4,g6,Bd3,Bg7,Nc3,Nc6,Be3,Rc8,Qd2,Nb4,Bb1,d5,a3,dxe4,Nxe4,Bxe4,Bxe4,Nd5,Bg5,Ngf6,Bd3,O-O,Bh6,Nh5,Bxg7,Nxg7,O-O,f6,b4,Re8,Qa2,Kf8,Be4,Nc3,Qc2,f5,Bd3,Ne6,Qd2,Kg7,Rac1,Nd5,Rfe1,Ndf4,g3,Nxd3,Rxc8,Qxc8,Qxd3,Qd7,Qe3,Nc7,Qe5+,Kg8,Rc1,Rc8,Qf4,Kg7,Ne5,Ne6', 'Nxd7,Nxf4,Rxc8', 'https://lichess.org/training/itYql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ItYvc', 'Blitz', 'Flipsos', 1986, 'Milokov', 2011, 'g3,d5,Bg2,c6,e3,e5,Ne2,Bd6,d3,f5,Nd2,Nf6,b3,O-O,Bb2,Be6,Nf3,h6,Bxe5,Qc7,Bxd6,Qxd6,O-O,Nbd7,Ned4,Rae8,Nxe6,Rxe6,Nh4,g6,Nxg6,Rfe8,Nf4,R6e7,Ng6,Rg7,Nf4,Ne5,Nh5,Nxh5,Qxh5,Rf8,Qe2,Re7,Bh3,Kg7,d4,Ng6,Qh5,Qf6,Bg2,b5,a4,b4,a5,Qg5,Qxg5,hxg5,Ra4,Rb8,Re1,f4,gxf4,Nxf4,Kf1,Nxg2,Kxg2,Kf6,Rh1,Kf5,h4,g4,Kg3,Rh7,a6,Rb6,Ra5,Rh5,f3,gxf3,Kxf3,Kf6,Ra4,Kg6,Kg4,Kh6,Rf1,Kg6,Rf8,c5,dxc5,Re6,Rg8+,Kh7,Rg5,Re4+,Kf3,Rhxh4,Rxd5,Reg4,Rd7+,Kg6,Rd6+,Kf5,Ke2,Rh2+,Kd3,Rgg2,Rxb4,Rd2+,Kc3', 'Rxc2+,Kd4,Rhd2#', 'https://lichess.org/training/ItYvc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iu1lv', 'Rapid', 'sigridganda', 1990, 'POP1983', 2002, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,g6,Bc4,Bg7,Qb3,e6,Nf3,Ne7,O-O,O-O,Bg5,Nbc6,Rad1,Na5,Qb4,Nxc4,Qxc4,h6,Bh4,g5,Bg3,f5,Be5,Ng6,Bxg7,Kxg7,exf5,exf5,Nd5,g4,Qd4+,Kh7,Ne5,Nxe5,Qxe5,d6,Qc3,Bd7,Rfe1,Bc6', 'Re7+,Qxe7,Nxe7', 'https://lichess.org/training/Iu1lv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iu30H', 'Rapid', 'Baki-Chix', 1774, 'frustated123', 1796, 'e4,c5,Bc4,e6,Nf3,Nc6,Bb5,Nge7,O-O,a6,Bxc6,Nxc6,d4,cxd4,Nxd4,Be7,Nxc6,dxc6,a3,O-O,Nc3,Qc7,Qf3,e5,Qg3,Re8,Bh6,Bf8,f4,Kh8,Bg5,f6,Bh4,exf4,Rxf4,g5,Bxg5,fxg5', 'Rxf8+,Rxf8,Qxc7', 'https://lichess.org/training/Iu30H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iu4au', 'Rapid', 'sergiolaf', 1631, 'Frol83', 1621, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,Nc3,c5,Qd3,Be7,Bg5,O-O,O-O-O,Nh5,Bxe7,Qxe7,Nd5,Qd8,Kb1,Be6,Be2,Bxd5,exd5,Nf4,Qc4,Nxe2,Qxe2,Re8,Qc4,a6,Rhe1,b5,Rxe8+,Qxe8,Qf4,Qe2', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/Iu4au');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iu7oQ', 'Classical', 'lrb1982', 1744, 'StabboCrabbo', 1711, 'c4,c5,Nc3,Nc6,Nf3,Nf6,e3,e6,a3,d5,cxd5,exd5,Be2,Bd6,Nb5,O-O,Nxd6,Qxd6,O-O,Ng4,g3,Qh6,h4,Qg6,d4,cxd4,exd4,Bf5,Bf4,Be4,Nh2,Nxh2,Kxh2,Rfe8,Rc1,Bf5,Re1,Re7,Bh5', 'Rxe1,Bxg6,Rxd1', 'https://lichess.org/training/Iu7oQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iu8mb', 'Rapid', 'ashis_chk', 1723, 'SanSanSan70', 1784, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Be7,O-O,O-O,Bxc6,dxc6,Nxe5,Bd6,Nf3,Bg4,d3,Bh5,Ne2,Ng4,Ng3,Bg6,Bg5,f6,Nh4,fxg5,Nxg6,hxg6,Qxg4,Rf4,Qe6+,Kh7,Ne2,Qf6,Nxf4,gxf4,Qh3+,Kg8,f3,g5,c3,Kf7,d4,Be7,e5,Qg6,Rae1,Qd3,Qd7,Rh8,Qxc7,Rh6,Qxb7,c5,d5,Kg8,d6,Bf8,d7,c4,e6,Bc5+,Kh1', 'Rxh2+,Kxh2,Qh7#', 'https://lichess.org/training/Iu8mb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IUARP', 'Classical', 'mitto1', 1628, 'suhaile', 1705, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,d3,h6,O-O,d6,h3,Nge7,Qe2,Be6,Bxe6,fxe6,Be3,Ba7,Bxa7,Rxa7,Nh4,O-O,Qg4,Rf4,Qxe6+,Kh7,g3', 'Nd4,gxf4,Nxe6', 'https://lichess.org/training/IUARP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IuB9u', 'Rapid', 'AHaque', 2084, 'blsn', 1984, 'd4,e6,e4,g6,Nf3,c5,c3,b6,Be3,Qc7,Qe2,Ba6,c4,d5,exd5,exd5,b3,Be7,Qc2,Nf6,Be2,dxc4,Bxc4,Bxc4,Qxc4,O-O,O-O,a6,b4,b5,Qb3,c4,Qd1,Bxb4,Bd2,Nd5,Bxb4,Nxb4,Nc3,Rd8,a3,Nd3,a4,Nc6,axb5,Nxd4,Nxd4,Rxd4,Rxa6,Rxa6,bxa6,Qa5,Ne2,Rd8,Qa1,Qb6,a7,Ra8,Qc3,Qc5,g3,Rxa7,Nf4,Nxf4,gxf4,Ra3,Qc2,c3,Rc1,f5,Qd3,Ra2,Qf3,c2', 'Qb3+,Kg7,Qxa2', 'https://lichess.org/training/IuB9u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iucoP', 'Classical', 'sandy42', 1895, 'hoikhoephudong', 1881, 'e4,c5,Nf3,d6,Bc4,Nf6,e5,dxe5,Nxe5,e6,d3,Bd6,Nf3,a6,a4,O-O,O-O,Bd7,Nc3,Qa5,Bd2,Qc7,Bg5,Bc6,Bxf6,gxf6,Ne4,Bxe4,dxe4,Rd8,Qe2,Nc6,c3,Kh8,g3,Rg8,Nh4,Ne5,Bb3,c4,Bc2,Bc5,Kg2,Rad8,Rad1,b5,axb5,axb5,Nf3,Ng6,Rxd8', 'Nf4+,Kh1,Nxe2', 'https://lichess.org/training/iucoP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IuFFp', 'Classical', 'Richray2018', 1718, 'tac_tics', 1689, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nf3,Bg4,Be3,Be7,O-O,Nbd7,h3,Bh5,Qe2,Nc5,Bxc5,dxc5,Qe3,O-O,Nxe5,Qc7,Nf3,c4,Be2,Rfe8,e5,Bc5,Qf4,Nd7,Qxc4,Bxf3,Bxf3', 'Bxf2+,Rxf2,Qxc4', 'https://lichess.org/training/IuFFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IUgqP', 'Rapid', 'LukaNejc', 2064, 'Subhashsigar', 2060, 'e4,g6,d4,Bg7,Nf3,d6,Bc4,Nf6,Nc3,O-O,O-O,a6,a4,Nc6,Re1,Bg4,Be2,Nd7,h3,Bxf3,Bxf3,Nxd4,Nd5,Nxf3+,Qxf3,Ne5,Qb3,Rb8,Bg5,Nc6,c3,Qd7,Rad1,e6,Ne3,b5,Ng4,bxa4,Qxa4,Rxb2,c4,a5,Bf6,Rb4,Qa1,e5,Bxg7,Kxg7,c5,Nd4,f4,h5,fxe5,hxg4,Rxd4,Rxd4,Qxd4,Kg8,exd6,cxd6,Qxd6,Qxd6,cxd6,gxh3,gxh3,f6,Kf2,Rd8,Rd1,Kf7,Rd5,Ke6,Rxa5,Rxd6,Ke3,g5,Rb5,Rc6,Kf3,Rc4,Rb6+,Kf7,Rb5,Kg6,Rf5,Rc3+,Kg4,Rc4,Kf3,Rc3+,Kg4,Rc1,Rf3,Rg1+,Rg3,Rxg3+,Kxg3,Kh5,Kf3', 'Kh4,Kg2,g4,hxg4,Kxg4', 'https://lichess.org/training/IUgqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IuGrL', 'Classical', 'Salim6161', 1969, 'Kraparov75', 2051, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,h3,Bh5,g4,Bg6,Bd3,c5,Bxg6,hxg6,c3,Nd7,g5,Ne7,Na3,a6,Nc2,Nf5,Ne3,Nh4,Nxh4,Rxh4,f3,Qxg5,Kf2,Qd8,Ng2,Rh7,h4,Be7,Bg5,Bxg5,hxg5,Rxh1,Qxh1,Qxg5,Qh8+,Nf8,Qxg7,Qd2+,Kg3,Qxb2,Rh1,Qxc3', 'Rh8,Ke7,Qf6+', 'https://lichess.org/training/IuGrL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IuI5D', 'Blitz', 'MaanBoys', 1560, 'fasil_nk', 1577, 'd4,d5,Nf3,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Nc6,Nbd2,Bb4,c3,Bd6,O-O,Nf6,Re1,O-O,e4,dxe4,Nxe4,Nxe4,Rxe4,a6,Rh4,h6,Bxh6,Ne7,Bxg7,Kxg7,Qh7+,Kf6,Rh6+,Ng6,Nh4,Rh8', 'Rxg6+,fxg6,Qxg6+,Ke7,Qg7+,Ke8,Qxh8+', 'https://lichess.org/training/IuI5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iuInU', 'Rapid', 'JayeshGandhi', 1506, 'Rishan100', 1818, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,Ng5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,Nd5,Nxe4,Qh5+,g6,Qxh7+,Ke6,Nc3,Nxf2,Qxg6+,Qf6,Qxf6+,Kxf6,Rf1,Ke6,d3,Ng4,Ne4,Bb6,c4,Nd4,Kd2,Ba5+,Kd1,d5,cxd5+,Kxd5,h3,Nh6,Bxh6,c6,Rf6,Be6,a3,Rg8,b4,Rxg2,Rc1,Bb6,a4,a5,Bf8', 'Rg1+,Kd2,Nb3+,Kc2,Nxc1,Bc5,Bxc5', 'https://lichess.org/training/iuInU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iUJOE', 'Blitz', 'Corozalera', 1884, 'MidNighTpancakes', 1886, 'e4,c6,d4,d5,e5,e6,f4,f6,Nf3,fxe5,Nxe5,Bd6,Be3,Nd7,c4,Qf6,Nc3,Nxe5,dxe5,Bxe5,fxe5,Qxe5,Qd4,Qc7,Bf4,Qe7,O-O-O,Nf6,Bg5,h6,Bxf6,gxf6,cxd5,cxd5,Bb5+,Bd7,Rhe1,Bxb5,Nxb5,Rc8+,Kb1,Qh7+,Ka1,O-O,Rxe6,Qc2,Ree1,Kf7,Qxd5+,Kg7,Re7+,Kg6,Ree1,Rfd8,Qb3', 'Rxd1+,Rxd1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/iUJOE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IUJWs', 'Classical', 'Mr_smart_ass', 1792, 'elsorady_2013', 1855, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,h6,Re1,d6,a3,Bg4,Nbd2,d5,exd5,Nxd5,h3,Bh5,g4,Bg6,Nxe5,Nxe5,Rxe5,c6,Bxd5,cxd5,d4,f6,Re1,Bb6,Nf3,Be4,Bf4,f5,g5,Kh8,gxh6,g6,Ng5,Qf6,Be5,Qxe5,dxe5,Rae8,Nxe4,fxe4,Re2,Rxe5,Kg2,Rg5+,Kf1,e3,Qb3', 'exf2,Rd2,Rg1+', 'https://lichess.org/training/IUJWs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IUKsC', 'Rapid', 'N_Kharinov', 1677, 'VenkataramanK', 1789, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Be3,e6,f3,Be7,Qd2,h6,O-O-O,O-O,h4,Nc6,g4,Nxd4,Qxd4,b5,g5,e5,Qd2,b4,Nd5,Nxd5,Qxd5,h5,Qxa8,Qc7,Qd5,Be6,Qd2,Qa5,a3,Rb8,Rg1,Qa4,g6,bxa3,b3,a2,Kb2,Bxb3,cxb3,Qxb3+,Ka1', 'Qb1+,Rxb1,axb1=Q#', 'https://lichess.org/training/IUKsC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iulFl', 'Classical', 'rcstinson', 1820, 'bebebeb', 1779, 'e4,c6,d4,d5,e5,Bf5,Ne2,e6,Ng3,Ne7,h4,f6,Bd3,Bxd3,cxd3,fxe5,dxe5,Nd7,d4,g6,h5,Bg7,h6,Bf8,Nc3,Nf5,a3,Nxg3,fxg3,c5,dxc5,Nxc5,b4,Nd7,O-O,Nxe5,Qd4,Nf7,Rxf7,Kxf7,Qxh8', 'Bc5+,bxc5,Qxh8', 'https://lichess.org/training/iulFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iuMw2', 'Classical', 'Danielwusy', 1622, 'da303', 1736, 'e4,e5,Bc4,Bc5,Nf3,Nf6,Nxe5,O-O,Nc3,d6,Nxf7,Rxf7,Bxf7+,Kxf7,O-O,Bg4,Qe1,Bd4,Nb5,Be5,f3,Bh5,g4,Bg6,f4,Nxg4,fxe5+,Kg8,Rf4,Nxe5,d4,Qg5+,Kh1,Qe7,dxe5,dxe5,Rf3,a6,Nc3,Nc6,Qg1,Nd4,Rd3,Nxc2,Rb1,Rf8,Bg5,Qb4,Qc1', 'Bxe4+,Nxe4,Qxe4+', 'https://lichess.org/training/iuMw2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IUNI8', 'Classical', 'regisof', 1646, 'yadd', 1776, 'd4,Nf6,Nc3,g6,e4,d6,h3,Bg7,g4,O-O,Be3,e5,d5,c6,Bd3,cxd5,exd5,Nbd7,Qd2,Nc5,O-O-O,e4,Bc4,a6,Bh6,b5,Bxg7,Kxg7,Bf1,b4,Nce2,Qa5,a3,Qa4,Qxb4,Qxb4,axb4,Ncd7,Nc3,Nb6,b3,Bb7,Bg2,Nfxd5,Na2,Nf4,Bf1,d5,f3,e3,Rd4,Ne6,Rd3,d4,c3,Nf4,Rxd4,Nbd5,c4,Rac8,Kb2,g5,cxd5,Rcd8,Nc3,Rd6,h4,f6,h5,h6,Nge2,Nxe2,Bxe2,Re8,f4,Red8,fxg5,fxg5,Bc4,Re8,Re1,Rf6,Ne4,Rf4,Rxe3,Bc8,Red3,Bxg4,d6,Rfxe4,d7,Re2+,Rd2,Rxd2+,Rxd2,Rd8,Bxa6,Bxh5,Bb5,Kf6,Rc2,Bg4,Rc8,Rxc8,dxc8=Q,Bxc8,Bc6,h5,Kc2,h4,b5,h3,Bf3,Bf5+,Kd2,h2,Ke2', 'Bg4,Bxg4,h1=Q', 'https://lichess.org/training/IUNI8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iUopb', 'Blitz', 'samtesia12', 1776, 'ssurag', 1733, 'g4,g6,Bg2,Bg7,d4,Nf6,g5,Ng8,Nc3,c6,Bf4,d6,e4,f6,h4,f5,e5,dxe5,Bxe5,Bxe5,dxe5,Qxd1+,Rxd1,e6,Nf3,Ne7,O-O,O-O,Rfe1,Nd7,Kh2,Nc5,h5,b6,Kg3,Bb7,hxg6,Nxg6,Rh1,Rad8,Rde1,Kh8,Rh6,Rg8,Reh1,Rg7,Nh4,Nxe5,g6,Rdg8,Kf4,Nxg6+', 'Nxg6+,Rxg6,Rxh7#', 'https://lichess.org/training/iUopb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iUPLo', 'Blitz', 'IM VadimCernov', 2579, 'Tankotee', 2100, 'e4,c5,f4,Nc6,Nf3,g6,Bb5,Nd4,Nxd4,cxd4,O-O,Qb6,Bd3,Bg7,a4,a6,a5,Qa7,Kh1,Nf6,c3,Kf8,e5,Nd5,Qf3,e6,b3,h5,Ba3+,Kg8,c4,Nc7,Bd6,Ne8,Be7,Kh7,Qxh5+,Bh6,Bg5,Kg7,Bxh6+,Rxh6,Qg5,Qc5,Be4,Rh5,Qd8,d6,Qe7,Qc7,Qxe8,dxe5,d3,exf4,Nd2,e5,Nf3,Rb8,Qa4,Bg4,Qb4,Rbh8,Kg1,Bxf3,Rxf3,Rxh2,Kf2,Qd8,Rg1,Qh4+,Ke2,Qg4,Qe1,Rxg2+,Rxg2,Qxg2+,Qf2,Qg4,Kd2,f5,Bd5,Re8,Kc2,Re7,Qh2,e4,Rxf4,exd3+,Kxd3,Re3+,Kxd4,Qe2,Qh4,Rd3+,Kc5,Qe7+,Kb6,Qb4+,Ka7,Qc5+,Kb8,Re3,Re4,Qd6+,Ka8,Rxe4', 'Bxe4,fxe4,Qxe4', 'https://lichess.org/training/iUPLo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iuQHP', 'Blitz', 'KUHNI', 2092, 'Nad16', 2122, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,c3,c5,Bd3,b6,Ne2,Ba6,Nf3,Bxd3,Qxd3,Nc6,O-O,c4,Qc2,Be7,Be3,b5,a4,b4,Nf4,b3,Qd2,a5,Nh5,Rg8,Bg5,h6,Bxe7,Qxe7,Ng3,O-O-O,h3,Rdf8,Nh2,f5,exf6,gxf6,Qxh6,Qg7,Qxg7,Rxg7,Rae1,Nd8,Re2,Rfg8,Rfe1,Kc7,Ng4,Rg6,Nh5,f5,Ne3,Rg5,Nf4,Nf6,g3,Kd6,Neg2,Ne4,Kh2,Rh8,Nh4,Rh6,Nf3,Rg7,Ne5,Nf7,Nxf7+,Rxf7,f3,Ng5,Kg2,Rff6,h4,Nh7,Re5,Nf8,Nh3,Ng6,R5e2,Nf8,Nf2,f4,Ng4,fxg3,Nxh6,Rxh6,Kxg3,Rf6,Kg4,Ng6,Kg3,Nf4,Rh2,Nd3,Ree2', 'Rg6+,Kh3,Nf4#', 'https://lichess.org/training/iuQHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IURxE', 'Classical', 'Spaceball', 1759, 'Infestedsair', 1790, 'd4,d5,c4,Nc6,Nf3,e6,Nc3,Bb4,Qc2,dxc4,Bf4,Nxd4,Nxd4,Qxd4,e3,Qb6,Bxc4,Bd7,O-O,O-O-O,Rfd1,Nf6,h3,Bc6,Rac1,Bxc3,Qxc3,Nd5,Bxd5,Rxd5,Rxd5,exd5,Qxg7,Rd8,b3,Qa5,Qxf7,Rd7,Qg8+,Rd8,Qxh7,Rd7,Qh8+,Rd8,Qb2,a6,Qc2,Kb8,a4,d4,exd4,Rg8,Bg3,Qd5,Bxc7+,Kxc7,Qh7+,Kb6,f3,Qxd4+,Kh2,Rxg2+,Kxg2,Qd2+,Kg3,Qxc1,h4,Qe1+,Kg4,Qb4+,f4,Qxb3,h5,Bf3+,Kg5,Qxa4,h6,Qb5+,f5,Be4,Qg6+,Ka7,h7,Qe5,Qf6,Qg3+,Kh6,Qf4+,Qg5,Qh2+,Kg6,Qd6+,Qf6,Qg3+,Kf7,Bd5+,Kf8,Qb8+,Kg7,Qc7+,Kg6,Qg3+,Qg5,Qd6+,f6,Be4+,Kg7,Qc7+,f7,Bxh7,Qf6,Be4,Kg8,Bd5', 'Qd4+,Qb6,Qxd5', 'https://lichess.org/training/IURxE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IUSSb', 'Rapid', 'ljubex', 1892, 'Mm1374', 1819, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,c5,c3,Bxb1,Rxb1,Qa5,a3,cxd4,exd4,Nf6,h3,Nbd7,Bd3,Be7,Qe2,Qb6,O-O,O-O,Qc2,a5,Ne5,Nxe5,dxe5,Nh5,Be3,Bc5,Bxc5,Qxc5,Bxh7+,Kh8,Bd3,g6,Qd2,Ng3,Rfe1,Nh5,Qh6+,Kg8,Re3,Ra6,Rf1,b5,g4,Ng7,h4,Rc8,h5,gxh5,Qh7+,Kf8,Qh8+,Ke7,Qxg7,hxg4,Qxg4,Raa8,Qg5+,Kd7,Qf6,Rg8+,Rg3', 'Rxg3+,Kh2,Rxd3', 'https://lichess.org/training/IUSSb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iUSWj', 'Classical', 'lmatute', 1782, 'yeahman22', 1711, 'e4,Nf6,d3,c5,Nf3,d5,Bg5,dxe4,Bxf6,exf6,Qe2,Be7,Nfd2,exd3,cxd3,Bf5,Ne4,Qa5+,Nbc3,Qb4', 'Nd6+,Kf8,Nxf5', 'https://lichess.org/training/iUSWj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IuT1c', 'Bullet', 'EMERICO', 1614, 'Gasoile', 1614, 'e4,c5,Nf3,Nc6,Nc3,e6,Bb5,a6,Bxc6,bxc6,d4,cxd4,Nxd4,Bc5,O-O,Nf6,Be3,Bb4,e5,Bxc3,exf6,Bxb2,fxg7,Rg8,Rb1,Ba3,Bh6,Be7,Qf3,Bf6,Nxc6,dxc6,Qxc6+,Bd7,Qd6,Rc8', 'Qf8+,Rxf8,gxf8=Q#', 'https://lichess.org/training/IuT1c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iutqX', 'Blitz', 'ToroToro2002', 1817, 'Kompyang', 1772, 'e4,Nc6,Nf3,f6,d4,d6,Bd2,Bg4,d5,Bxf3,Qxf3,Nd4,Qd3,c5,c3,e5,cxd4,exd4,Qb5+,Qd7,Qxd7+,Kxd7,Bb5+,Ke7,O-O,a6,Be2,g6,Bf4,Kf7,Re1,h5,h3,g5,Bh2,Be7,Bd3,b5,e5,fxe5,Nd2,Nf6,Ne4,c4,Bc2,d3,Bd1,Nxd5,g4,hxg4,Bxg4,Nf4,b3,Nxh3+,Kg2,Nf4+,Bxf4,gxf4,bxc4,bxc4,Nc3,Rhg8,f3,Rad8,Rab1,Bh4,Rb7+,Ke8,Nd5,Bxe1,Nf6+,Kf8,Kf1,Bh4', 'Nh7+,Ke8,Bh5+,Rg6,Bxg6#', 'https://lichess.org/training/iutqX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IutVB', 'Rapid', 'Ailouros', 1911, 'Beletsky_Alexey', 2455, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,d4,Nc6,Be3,e5,dxe5,Qxd1+,Rxd1,Nxe5,Be2,Bd6,Nf3,O-O,Bb5,Nxf3+,gxf3,Bf5,Kd2,a6,Bc4,Rad8,Kc1,Rfe8,Rhg1,Be6,Bxe6,Rxe6,Bg5,Rde8,h4,Rg6,h5', 'Rxg5,Rxg5,Bf4+,Kb1,Bxg5', 'https://lichess.org/training/IutVB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IuTxE', 'Rapid', 'Karat13', 1738, 'buddhuguy', 1769, 'e4,c5,Bc4,g6,c3,Bg7,d4,cxd4,cxd4,Qa5+,Bd2,Qb6,Nf3,Qxb2,Bc3,Qb6,e5,Nh6,O-O,O-O,Nbd2,Nc6,Rb1,Qd8,Ne4,e6,Nd6,f6,Re1,fxe5,dxe5,a6,a4,a5,Bd2,Nxe5,Bxh6', 'Nxf3+,gxf3,Bxh6', 'https://lichess.org/training/IuTxE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iUvHT', 'Rapid', 'fruitcakemate', 1847, 'ssimonyancz', 1817, 'd4,Nf6,c4,d6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,Nbd7,O-O,c6,e4,e5,d5,a5,a3,Nc5,Qc2,a4,Nd2,Ne8,b4,axb3,Nxb3,Nxb3,Qxb3,f5,Bb2,f4,f3,g5,a4,Nf6,Ba3,g4,c5,gxf3,Bxf3,Bh3', 'dxc6+,Kh8,cxb7', 'https://lichess.org/training/iUvHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iUWRf', 'Classical', 'VincentMcAlpine', 1864, 'IAmBethHarmon64', 1894, 'e4,d5,exd5,Qxd5,Nc3,Qf5,d4,Nf6,Nf3,Ng4,Bd3,Qe6+,Be4,g6,d5,Qb6,O-O,f5,Na4,Qd6,Bd3,e5,Nxe5,Qxe5', 'Re1,Kf7,Rxe5', 'https://lichess.org/training/iUWRf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iuYYT', 'Rapid', 'sahipsizkoc', 1784, 'Trupanov', 1876, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Nbd7,Nf3,c6,e3,Be7,Bd3,h6,Bh4,Ne4,Bxe7,Qxe7,Nd2,Ndf6,Qc2,Nxd2,Qxd2,Ne4,Nxe4,dxe4,Be2,O-O,O-O,Qg5,Qb4,Bh3,g3,Bxf1,Bxf1,b5,Rc1,a5,Qd6,Rac8,Rxc6,Rxc6,Qxc6,b4,Qxe4,Rc8,Kg2,Qf6,Qd5,Rc2', 'Qa8+,Kh7,Bd3+,g6,Bxc2', 'https://lichess.org/training/iuYYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iuZCx', 'Rapid', 'Ninovtchka', 1615, 'ProfMahmoud', 1634, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,Nc3,Qb6,Nce2,e5,Nf5,Bxf2+,Kd2,Qb4+,c3,Qxe4', 'Nd6+,Kf8,Nxe4', 'https://lichess.org/training/iuZCx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iv2Q9', 'Blitz', 'sherwin--tiu', 2521, 'NM JIL-BATCH4', 2404, 'c4,Nf6,Nc3,e6,e4,d5,e5,d4,exf6,dxc3,bxc3,Qxf6,d4,e5,Nf3,exd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Be2,Bg4,O-O,Nc6,Rad1,Rfe8,d5,Bxf3,Bxf3,Ne5,Be2,b6,Qd4,Rad8,Rfe1,Nd7,Qxf6,Nxf6,Bd3,Kf8,h3,g6,g3,Nd7,f4,Nc5,Bc2,Rxe1+,Rxe1,Re8,Rxe8+,Kxe8,Kf2,Ke7,Ke3,Kd6,Kd4,Nd7,g4,Nf6,Ba4,h6,g5,hxg5,fxg5,Nh5,Bd1,Ng3,Bg4,a5,a3,Nf1,h4,Ng3,Bh3,Nh5,Bg4,Nf4,Ke4,Nh5', 'Bxh5,gxh5,Kf5', 'https://lichess.org/training/Iv2Q9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iv2Ti', 'Rapid', 'kingcharlie', 1748, 'Pri_X', 1997, 'e4,g6,d4,Bg7,Nc3,d6,f4,h5,Nf3,h4,h3,Nf6,Bd3,Nh5,O-O,Ng3,Rf2,c5,d5,a6,a4,a5,Be3,Na6,e5,Nb4,Bb5+,Kf8,Ng5,Nf5,Re2,f6,exf6,exf6,Nge4,Bd7,Bc4,Qc7,Nb5,Qb6,Nbxd6,Nxd6', 'Bxc5,Qxc5+,Nxc5', 'https://lichess.org/training/iv2Ti');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iv3tk', 'Blitz', 'tOmMyx', 1970, 'IM SevanB', 2554, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,Nge7,Bb5,a6,Bxc6,Nxc6,d3,Be7,O-O,O-O,Qe1,d5,Bd2,f5,e5,d4,Ne2,b5,Ng3,Bb7,Nh5,Qe8,Ng3,Qd7,Qe2,Rac8,Rac1,Rfd8,Ne1,Bf8,Qh5,Ne7,Nf3,Qc6,Rf2,h6,Qh4,c4,Nh5,Qe8,g4,fxg4,Qxg4,Nf5', 'Nf6+,Kh8,Nxe8', 'https://lichess.org/training/iv3tk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iv9oQ', 'Rapid', 'master_cz', 1635, 'obanebane', 1661, 'e4,e6,Nf3,d6,d4,b6,Bg5,Be7,Qd2,f6,Bh4,Bb7,Bb5+,Nd7,d5,g5,Bg3,e5,h4,g4,Nh2,h5,Nc3,Bf8,f3,Qe7,fxg4,O-O-O,Bf2,hxg4,Nxg4,Qg7,Ne3,Nh6,O-O-O,Nc5,Kb1,Ng4,Nf5,Qh7,g3,Nxe4,Nxe4,Qxf5,Bd3,Bxd5', 'Nxd6+,Rxd6,Bxf5+', 'https://lichess.org/training/iv9oQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iVaLX', 'Classical', 'elartedelfrio', 1737, 'gautom', 1760, 'e4,c5,Nc3,Nc6,Bc4,e6,Nf3,d6,d3,Nf6,Be3,Be7,O-O,a6,a4,b6,d4,cxd4,Nxd4,Nxd4,Qxd4,Rb8,Rfd1,O-O,f4,Bb7,Qxb6,Qxb6,Bxb6,Nxe4,Ba5,Nxc3,Bxc3,Rfc8,Bb3,Be4,Re1,Bf5,h3,h6,g4,Bh7,f5,Bh4,Re2,exf5,gxf5,Bxf5,Rg2,Bg6', 'Rxg6,Rxc3,bxc3', 'https://lichess.org/training/iVaLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iVAlz', 'Blitz', 'IM vizumatv4hoda', 2502, 'GM MrBochwalt', 2673, 'e4,e5,d4,exd4,Nf3,Nc6,c3,dxc3,Bc4,Bc5,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,d6,Qxc3,Nf6,O-O,Bg4,e5,dxe5,Nxe5,Nd4,Kh1,Qd5,Nxg4,Nxg4,Be3,Ne6,Nd2,Rd8,Nf3,Rf8,Rae1,Rxf3,gxf3,Qxf3+,Kg1,Rd5,Bf4,Qxf4,Qg3,Kf7,h3,Qxg3+,fxg3+,Nf6,g4,Rd2,Rf2,Rxf2,Kxf2,Nc5,Rd1,Nfe4+,Ke3,Nd6,b4,Ne6,Rc1,Ke7,a4,Kd7,h4,a6,h5,g6,Rh1,Nf7,hxg6,hxg6,Rh7,Ke7,Rh1,g5,Ke4,Nd6+,Kd3,Nf4+,Kd4,Kd7,Rh7+,Kc6,Rh8,b5,a5,Nd5,Rg8,Nxb4,Rxg5,Nc2+,Kd3,Ne1+,Ke2,Ng2,Rg8,b4,Rb8,Nb5,g5,Nf4+,Kd2,b3,Rf8,Ne6,Rf6,Kd5,g6,c5,Rf5+,Kd6,Rf6,Ke7,Rf7+,Kd6,Rb7,c4,Rb6+,Ke5,Rxb5+,axb5,a6,b4,a7,c3+,Ke2,b2,a8=Q,b1=Q,Qa5+,Kf6,Qh5,Qb2+,Kf1,Qd2,Qh8+,Ke7,Qh7+,Kd6,g7,Qf4+,Ke1,Qg4', 'g8=Q,Qxg8,Qxg8', 'https://lichess.org/training/iVAlz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ivbTd', 'Rapid', 'huevodiestro', 1764, 'waltalgg', 1781, 'e4,c5,f4,d6,Nf3,Nf6,Bc4,e6,O-O,a6,a4,Bd7,Nc3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Rc8,Bb3,d5,exd5', 'Bc5,Qxc5,Rxc5', 'https://lichess.org/training/ivbTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IVCro', 'Classical', 'Bexwell', 1824, 'Fenrirsanz', 1863, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e5,d5,c6,Bc4,Bb4,Bd2,Bxc3,Bxc3,cxd5,Bxd5,Ne7,Bxf7+,Kxf7,Qf3+,Kg8,Bxe5,Qd5,Qg3,Qe4+,Ne2,Nf5,Qb3+,Kf8,O-O-O,Qxe5', 'Rd8+,Ke7,Rxh8', 'https://lichess.org/training/IVCro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IVDAD', 'Blitz', 'scottysl', 1789, 'theorieofchaos', 1767, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,e6,e4,dxe4,Qc2,Be7,Nxe4,O-O,Nf3,Nxe4,Qxe4,f5,Qc2,Qa5+,Bd2,Qc7,Be2,Bf6,O-O,Nd7,Bg5,e5,Bxf6,Rxf6,d5,e4,Nd4,Ne5,Rfd1,cxd5,cxd5,Qxc2,Nxc2,f4,d6,f3,gxf3,exf3,Bb5,Bh3,Ne3,Rg6+,Kh1,Bg2+,Nxg2', 'fxg2+,Kg1,Nf3#', 'https://lichess.org/training/IVDAD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iVdie', 'Rapid', 'Bkmos7', 1722, 'flotterHecht', 1706, 'd4,d5,Bf4,Nc6,Nf3,Bf5,c3,Nf6,e3,h6,Bg3,e6,Bd3,Bg4,Nbd2,Bd6,Qc2,Qe7,O-O-O,e5,e4,exd4,cxd4,O-O,Rde1,Nb4,Qc3,Nxd3+,Qxd3,dxe4,Nxe4,Nxe4,Rxe4,Qd7,Bxd6,Bxf3,gxf3,Qxd6,Rg4,Rac8,Rxg7+,Kxg7,Rg1+,Kf6,Qe3,Rh8,Rg4,Qxh2,Rf4+,Kg7', 'Qe5+,Kg8,Rg4+', 'https://lichess.org/training/iVdie');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IVDzj', 'Blitz', 'IM purzelbaumer', 2312, 'lacin_mirza', 1912, 'd4,e5,dxe5,f6,Nf3,fxe5,Nxe5,Nf6,Nc3,Bc5,Nd3,Bb6,Bg5,O-O,e3,h6,Bh4,c6,Be2,d5,Bg3,Bc7,Qd2,Bxg3,hxg3,Qe8,Nf4,Nbd7,Bd3,Ne4,Nxe4,dxe4,Bc4+,Kh8,O-O-O,Nb6,Bb3,Nd5,Nxd5,cxd5,Bxd5,Bg4,f3,exf3,gxf3,Bxf3,e4,Bxd1', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/IVDzj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ivEJK', 'Rapid', 'andreabossola', 1763, 'kokovloebis', 1703, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,d6,dxe5,Bg4,Qd5,Qd7,exd6,Bxd6,Nbd2,Nf6,Qd3,O-O,O-O,Rad8,h3,Nb4,Qb3,Bxf3,Nxf3,Nxe4,Be3,Nc6,Rad1,Qf5,Rd5,Qg6,Bd3,Qe6,a3,Bh2+,Nxh2,Qxd5', 'Qxd5,Rxd5,Bxe4', 'https://lichess.org/training/ivEJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iVeVH', 'Rapid', 'kally', 1623, 'dropwea', 1650, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,Bg5,Be7,O-O,d6,Nbd2,a6,a4,h6,Bh4,Ng4,Bxe7,Qxe7,h3,Nf6,b4,Be6,Qb3,Rfd8,Bxe6,Qxe6,Qxe6,fxe6,Nc4,d5,exd5,exd5,Ncxe5,Nxe5,Nxe5,d4,c4,c6,Rfe1,Re8,Ng6,Rxe1+,Rxe1,Kh7,Nh4,Re8,Kf1,g5,Nf5,Kg6,Nd6,Rxe1+,Kxe1,b6,Nc8,Nd7,Ke2,Kf5,Kf3,h5,g4+,hxg4+,hxg4+,Ke5,Na7,c5,b5,a5,Nc6+,Kd6,Ke4,Ke6,Nd8+,Kf6,Nc6,Ke6,Nd8+,Kd6,Nf7+,Ke7,Nxg5,Kf6,f4,Nf8,Kd5,Ng6,Ne4+,Ke7,f5,Nf4+,Ke5,Nxd3+,Kd5,Nb2,g5,Nxa4,g6', 'Nc3+,Nxc3,dxc3,g7,Kf7', 'https://lichess.org/training/iVeVH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IVLh8', 'Rapid', 'Artur129', 1775, 'Dima_instremo', 1787, 'e4,g6,Nf3,Bg7,Bc4,c5,Ng5,e6,d3,Nc6,Nc3,a6,Qf3,Ne5,Qf4,h6,Nf3,g5,Qg3,Ng6,O-O,b5,Bb3,b4,Na4,d6,Rd1,Nf6,e5,Nh5,Qg4,Nhf4,exd6,h5,Qxg5,Qxd6,Bxf4,Qxf4,Qxc5,Bb7,Nb6,Bxf3,gxf3,Nh4,Qc6+,Ke7,Nxa8,Nxf3+,Kg2,Qg4+,Kf1,Nxh2+,Ke1,Nf3+,Kf1,Bd4,Qb7+,Kf6,Qe4', 'Qg1+,Ke2,Qxf2#', 'https://lichess.org/training/IVLh8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ivlTg', 'Rapid', 'Oleg_Kuz', 1794, 'surendra_111', 1784, 'e4,e5,Bc4,Nf6,Nf3,d6,d3,Be7,Nc3,O-O,Nh4,a6,Nf5,Bxf5,exf5,d5,Bb3,Re8,Qf3,c6,O-O,Bb4,a3,Bxc3,bxc3,Nbd7,c4,Nc5,cxd5,Nxb3,cxb3,Qxd5,Qg3,Rad8,Bh6,Nh5,Qg5,g6,g4', 'Nf4,Qxf4,exf4', 'https://lichess.org/training/ivlTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ivm77', 'Classical', 'roddinator888', 1998, 'mendicant', 1864, 'Nf3,d5,g3,c5,Bg2,Nc6,d3,e5,O-O,Bd6,e4,d4,a4,f5,exf5,Bxf5,Re1,Nf6,Nxe5,Bxe5,Bxc6+,Kf7,Rxe5,bxc6,Rxf5,Qd7,Qh5+,g6,Rxf6+,Kxf6,Bg5+,Kg7,Bh6+,Kf7,Qxc5,Rhe8,Nd2,Re2,Ne4,Qd5,Qa5,Qxa5,Ra3,Rxc2,Rb3,Qa6,Bf4,Kg8,Nd6,Qxa4,Rb7,Qa1+,Kg2,Qe1,Ne4,Re8', 'Nf6+,Kh8,Rxh7#', 'https://lichess.org/training/ivm77');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ivN6i', 'Blitz', 'McVain', 1989, 'kiranks', 1601, 'd4,d5,Nf3,Nf6,c4,Bf5,Nc3,e6,Bf4,a6,e3,Be7,Qb3,b6,cxd5,exd5,Ne5,O-O,Rc1,Bd6,Be2,Bxe5,Bxe5,Ne4,Nxd5,Qh4,O-O,Nd7,Rxc7,Nxe5,dxe5,Nd2,Qxb6,Nxf1,Bxf1,Be4,Qd4,f5,f3,Qe1,fxe4,fxe4,Qc4', 'Qf2+,Kh1,Qxf1+,Qxf1,Rxf1#', 'https://lichess.org/training/ivN6i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iVPlC', 'Blitz', 'jesus_slee', 1551, 'aminnori8517', 1569, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,e6,d3,a6,a3,Be7,O-O,O-O,h3,b5,Ba2,Nc6,Be3,Rb8,Nh2,Ne5,f4,Nc6,Ng4,b4,Nxf6+,Bxf6,Ne2,bxa3,c3,axb2,Rb1,Qa5,Ng3,Qxa2,Nh5,Bxc3,Qg4,g6,f5,exf5,exf5,Kh8,Qf3,Ne5,Qe2,gxh5,Bh6,Rg8,f6,Rg6,Bg7+,Kg8,Qxh5,Bb7,Rf4,Bxg2', 'Qxh7+,Kxh7,Rh4+,Rh6,Rxh6+,Kg8,Rh8#', 'https://lichess.org/training/iVPlC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IvpR4', 'Rapid', 'position100', 2071, 'repz1967', 2032, 'e4,Nc6,Nf3,e5,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,d6,c3,Bb7,h3,Na5,Bc2,Be7,Be3,O-O,a4,c5,O-O,b4,Re1,Qc7,Nbd2,Rfb8,Qc1,Bc6,d4,b3,Bd3,exd4,cxd4,Bd7,e5,Nd5,Nc4,Nxe3,Nxe3,Rc8,Ng4,Bxg4,hxg4,c4,Be4,Rab8,Qd2,dxe5,Nxe5,Bb4,Qe3,Bxe1,Rxe1,c3,Bd5,c2,Bxf7+,Kh8', 'Ng6+,hxg6,Qh3#', 'https://lichess.org/training/IvpR4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IVqd5', 'Blitz', 'jessieu726', 1511, 'osamayousef', 1561, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,f3,Nf6,Qd2,O-O,O-O-O,a6,g4,Nxd4,Bxd4,Be6,h4,h5,gxh5,Nxh5,Bxg7,Kxg7,Rg1,b5,f4,Rc8,f5,b4,Qd4+,Kh7,fxg6+,fxg6,Qxb4,Qc7,Bd3,Rb8,Qd4,a5,e5,Bf5,Bxf5,Rxf5,Qg4,Rg8,exd6,exd6,Ne4,d5,Ng5+,Kh6,Kb1,Rf2,Rc1,Rc8,Rg2', 'Qxc2+,Rxc2,Rf1+,Qd1,Rxd1+,Rc1,Rdxc1#', 'https://lichess.org/training/IVqd5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IvqMi', 'Rapid', 'chessguy45', 2066, 'PL-HO', 1828, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Nc6,O-O-O,Nxd4,Bxd4,Be6,h4,Qa5,Kb1,Rfe8,h5,Nxh5,Bxg7,Kxg7,g4,Nf6,Qh6+,Kg8,Bd3,Rec8,g5,Rxc3,gxf6,exf6,Qxh7+,Kf8,Qh8+,Ke7,Qxa8,Qxa2+,Kc1,Qa1+,Kd2,Qxb2,Rc1,Qb4,Ke2,Bc4,Qxa7', 'Bxd3+,cxd3,Qb2+,Ke3,Rxc1,Rxc1,Qxc1+', 'https://lichess.org/training/IvqMi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ivqvG', 'Bullet', 'maunok', 2240, 'buitreador', 1998, 'd4,d5,c4,e6,Nc3,c6,cxd5,exd5,Qc2,Nf6,Bg5,Bd6,e3,Be6,Bd3,Nbd7,Nf3,O-O,h3,h6,Bh4,g5,Bg3,Bxg3,fxg3,Qc7,Qf2,Nh5,Ne2,f5,O-O-O,c5,Kb1,c4,Bc2,Nhf6,g4,fxg4,Ne5,Nxe5,Qg3,gxh3,gxh3,Ne4,Bxe4,dxe4,dxe5,Rf3,Qg1,Qxe5,Nd4,Rf7,Rc1,b5,h4,g4,h5,b4,Rh2,c3,Rg2,a5,Nxe6,Qxe6,Rxg4+,Kh7,Rg6,Qd5', 'Rxh6+,Kxh6,Qg6#', 'https://lichess.org/training/ivqvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iVS1t', 'Rapid', 'allit', 2150, 'alicherakchiev', 2092, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,h3,g6,Nf3,Bg7,O-O,O-O,Re1,Re8,Bg5,Qc7,Qd2,Bd7,Bf4,Qc8,Na3,a6,Nc2,Bf5,Ne3,Bxd3,Qxd3,Ne4,Nxd5,Nf6,Nb6,Qd8,Nxa8,Qxa8,Ne5,Nd5,Bg3,Qc8,Qf3,Nxe5,Bxe5,Qd7,Bxg7,Kxg7,Re5,Nf6,Rae1,b5,Qe2,e6,Qf3,Rb8,g4,h6,h4,b4,g5,hxg5,hxg5,Nh5,Rc5,bxc3,bxc3,Rb2,Re2,Rb1+,Kg2,Qd6,Rce5,Qa3,c4', 'Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/iVS1t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IvsSt', 'Classical', 'rubikibur', 1783, 'komle', 1732, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,Nc6,cxd5,exd5,Bd3,Bg4,a3,h6,Bh4,Nd7,Bxe7,Qxe7,O-O,Nf6,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Nxd5,Qd6,Nf4,g5,Bh7+,Kxh7,Nxg5+,hxg5,Qxg4,gxf4,Kg2,Rg8', 'Rh1+,Qh6,Rxh6+,Kxh6,Rh1#', 'https://lichess.org/training/IvsSt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ivTWN', 'Bullet', 'SubasteArman', 2232, 'God_odin', 2223, 'e4,c5,Nf3,d6,d3,Nc6,g3,g6,Bg2,Bg7,O-O,Bd7,Nbd2,Qc8,Re1,Bh3,Bh1,h5,Nc4,h4,Nxh4,Nf6,e5,Nxe5,Nxe5,dxe5,Rxe5,Be6,Qf3,Nd7,Rxe6,fxe6,Nxg6,Rg8,Bg5,Ne5,Nxe5,Bxe5,h4,Rb8,Qh5+,Kd7,Be3,Qc7,Bg2,Bxg3,fxg3,Qxg3,Qe2,Rg4,Rf1,Rbg8,Rf2,Rxh4,Bxc5,Qh2+,Kf1', 'Qh1+,Bxh1,Rxh1#', 'https://lichess.org/training/ivTWN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IvTzG', 'Rapid', 'Blique', 1861, 'Kaskade24', 1919, 'c4,c6,Nc3,d5,cxd5,cxd5,d4,Nc6,g3,Bf5,Bg2,e6,Nf3,Nb4,Qa4+,Qd7,Qxd7+,Kxd7,Ne5+,Ke8,e4,dxe4,O-O,Nc2,Rb1,Nxd4,Be3,Bc5,Bxe4,Bxe4,Nxe4,Bb6,Nd6+,Ke7,Ndc4,Rd8,Nxb6,axb6,Rfd1,Nc6,Rxd8,Nxd8,Bxb6,Nh6,Rd1,f6,Nd7,Nc6,Bc5+,Kf7,Nb6,Rd8,Rxd8,Nxd8,Nd7,Ke8,Nb6,Nhf7,b4,Ne5,Nc8,Nd3,Nd6+,Kd7,Ne4,Nxc5,Nxc5+,Kc6,Kf1,b6,Nd3,e5,Ke1,Nb7,f3,Nd6,Kd2,Nc4+,Kc3,Ne3,a4,Nf1,b5+,Kb7,f4,exf4,Nxf4,Nxh2,Ne6,g5,Nf8,h5,Nh7,h4,gxh4,gxh4,Nxf6,Nf3,Ng4,h3,Kd3', 'Ne5+,Nxe5,h2,Nf3,h1=Q', 'https://lichess.org/training/IvTzG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IVusQ', 'Rapid', 'DeepArt1988', 1611, 'Carbon14', 2081, 'e4,Nc6,Bc4,e5,Nf3,f5,d4,fxe4,Nxe5,d5,Bb5,Qd6,f4,Nf6,O-O,Bd7,Be3,a6,Be2,Be7,Bh5+,g6,Be2,O-O-O,Nf7,Qb4,Nc3,Rdf8,Nxh8,Rxh8,Rb1,h5,a3,Qd6,b4,Ng4,Qd2,Nb8,Na4,Bxa4,f5,Nxe3,Qxe3,gxf5,Rxf5,Bxc2,Rbf1,Nd7,Qh3,e3,Rxh5,Rg8,Rh8,Qg6,Rxg8+,Qxg8,Qxe3,Be4,Rf2,Bh4,g3,Bg5,Qc3,Qe6,Bf1,Nf6,Qc5,Be3,Qf8+,Ne8', 'Bh3,Bxf2+,Kxf2', 'https://lichess.org/training/IVusQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ivvv1', 'Blitz', 'IM AndreiMacovei', 2408, 'Rababel2017', 2402, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,g4,b5,f3,Bb7,Be3,Bb4,Ne2,Ne7,a3,Bc5,Bxc5,Qxc5,Qd4,Qxd4,Nxd4,Nbc6,O-O-O,O-O-O,Nb3,d6,h4,h6,Be2,Ne5,Rd2,Kc7,Rhd1,g5,h5,N7c6,Nd4,Na5,b3,Bc6,Kb2,Rd7,Nxc6,Naxc6,b4,Rhd8,Kb3,Kb6,a4,Na7,Ra1,Rc8,axb5,axb5,Ra5,Nc4,Bxc4,bxc4+,Kb2,Rc6,Rd1,Rb7,Rda1,Nc8,Nb5,d5,Ra6+,Kxb5', 'R1a5+,Kxb4,c3#', 'https://lichess.org/training/ivvv1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iVwCo', 'Rapid', 'DavidOstrom', 1904, 'ELCHACAL', 1882, 'd4,d5,Bf4,Nc6,e3,Nf6,c4,Bf5,Nc3,e6,Nf3,Bb4,Bd3,Bxd3,Qxd3,Ne4,O-O,Bxc3,bxc3,f5,Ne5,O-O,Nxc6,bxc6,f3,Nf6,Rab1,Qc8,Rb3,Qa6,Rb2,dxc4,Qc2,Nd5,Bg3,Nxe3,Qe2,Nxf1,Kxf1,Rfe8,Be5,Qc8,Qxc4,Qd7,Rb7,Rec8,a4,a5,Qb3,Qd5,Qb2,c5,Rb5,Qc4+,Kf2,cxd4,cxd4,Qc6,Qd2,Rd8,Qg5,Rd7,Rc5,Qb6,h4,h6,Qg6,Qb2+,Kg3,Rc8,Rxa5,Qb4', 'Qxe6+,Rf7,Qxc8+', 'https://lichess.org/training/iVwCo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IVwd2', 'Blitz', 'CM WildTricks', 2317, 'gruppa_aria', 2412, 'Nf3,Nf6,g3,d5,Bg2,Bf5,O-O,e6,d3,Be7,Nh4,Bg4,h3,Bh5,g4,Bg6,c4,c6,Nc3,Nbd7,b3,O-O,Bb2,a5,a3,Nc5,b4,axb4,axb4,Rxa1,Bxa1,Ncd7,b5,Ne8,Nxg6,hxg6,bxc6,bxc6,Qa4,Qc7,Rb1,Nd6,cxd5,cxd5,Nb5,Nxb5,Qxb5', 'Rb8,Qxb8+,Nxb8', 'https://lichess.org/training/IVwd2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IVWrJ', 'Rapid', 'Wm-Hippo', 1833, 'NickZack', 1764, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,c5,c3,cxd4,exd4,Bd6,Bg3,Nc6,Nbd2,O-O,Bd3,a5,Ne5,Qc7,Ndf3,Nd7,Qe2,Ndxe5,dxe5,Bc5,Bxh7+,Kh8,Bc2,Qd8,Bh4,Be7,Bxe7,Qxe7,Qd3,g6,Qe3,f5,exf6,Rxf6,Qh6+,Qh7,Qxh7+,Kxh7,O-O-O,b5,Rhe1,Kg7,Rd2,b4,Nd4,Nxd4,cxd4,Ba6,Bd3,Rc8+,Rc2,Rxc2+,Bxc2,Rxf2,Rxe6,Bc4,Rxg6+,Kf7,b3,Bf1,h4', 'Rxc2+,Kxc2,Kxg6', 'https://lichess.org/training/IVWrJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ivWTf', 'Rapid', 'bieratrois', 2009, 'mikejg', 2026, 'd4,f5,Nc3,Nf6,Bg5,Ne4,Nxe4,fxe4,e3,d5,Ne2,g6,c4,c6,Nc3,Bg7,Be2,O-O,h4,h6,Bf4,e6,f3,exf3,Bxf3,Nd7,Qc2,Qf6,O-O-O,e5,dxe5,Nxe5,cxd5,Nxf3,gxf3,Bd7,Rhg1,cxd5,Rxg6,Qf5,Rdg1', 'Qxc2+,Kxc2,Bf5+,Kd1,Bxg6', 'https://lichess.org/training/ivWTf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iVxRS', 'Rapid', 'mateusz195', 2170, 'alcarax', 2215, 'e4,d5,exd5,Nf6,d4,Bg4,Be2,Bxe2,Nxe2,Qxd5,O-O,Nc6,Nbc3,Qh5,Qd3,O-O-O,Be3,e5,Qc4,exd4,Nxd4,Bd6,h3,Ne5,Qe2,Neg4,Nf3,Nxe3,Qxe3,Bc5,Qf4,Nd5,Nxd5,Rxd5,Rad1,Rhd8,Rxd5,Rxd5,Re1,Kd7,Qe4,c6,c4,Rd6,Qe7+,Kc8,Re5', 'Rd1+,Re1,Bxe7', 'https://lichess.org/training/iVxRS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IVzke', 'Blitz', 'Twx', 1776, 'Tkrans', 1740, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,Bg5,Nc2,O-O,h4,Bxh4,Qh5,Bxf2+,Kxf2,h6,Be2,Be6,Nce3,a5,Raf1,b4,Ke1,bxc3,Nf5,Bxf5,Rxf5,cxb2,Nf6+,Kh8,Qxh6+,gxh6', 'Rxh6+,Kg7,Rh7+,Kg6,Bh5#', 'https://lichess.org/training/IVzke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IW1Bt', 'Blitz', 'Chackening', 2159, 'Aibek_123', 2332, 'd4,d5,c4,e6,Nf3,c5,Nc3,cxd4,Nxd4,e5,Nf3,d4,Nxe5,Be6,Nb5,a6,Qa4,Nd7,Nxd4,b5,Nxe6,bxa4,Nxd8,Nxe5,Nb7,Bb4+,Bd2,Bxd2+,Kxd2,Nxc4+,Kc3,Nxb2,Nd6+,Ke7,Nxf7,Kxf7,Kxb2,Nf6,e3,Rab8+,Ka3,Rhc8,Bxa6,Rc3+,Kxa4,Nd7,Rhc1', 'Nc5+,Ka5,Ra3#', 'https://lichess.org/training/IW1Bt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iw2lk', 'Rapid', 'kevino123plus', 1928, 'SARc6d5', 1963, 'e4,e6,f4,d5,exd5,exd5,Nf3,Nf6,d4,Be7,Bd3,h6,O-O,O-O,Ne5,Ne4,c3,Nd7,Qf3,Nxe5,dxe5,f5,exf6,Rxf6,Bxe4,dxe4,Qxe4,Qe8,Kh1,Re6,Qc4,Kh8,Nd2,Bd6,Nf3,Re2,Ne5,Rc2,Qd3,Rxg2,Kxg2,Bxe5,fxe5,b6,Qd5,Rb8,Qf7,Bb7+,Kg3,Qxe5+,Bf4,Qe4,Rf2,Qd3+,Kg4,Bc8+,Kh5,Qh3+,Kg6,Bf5+,Qxf5,Qh4,Bg3,Qe7,Qf7', 'Qg5#', 'https://lichess.org/training/Iw2lk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iw3jV', 'Rapid', 'nissou-ach', 2267, 'WhiskyBlues', 2038, 'd4,f5,Bf4,Nf6,Nf3,e6,e3,Bb4+,c3,Be7,h3,O-O,Nbd2,b6,Be2,Bb7,O-O,d6,a4,Nbd7,Ng5,Qe8,Nxe6,Qg6,Bf3,Ne4,Nxf8,Rxf8,Nxe4,fxe4,Bg4,Nf6,Be6+,Kh8,a5,Nh5,Bh2,Qxe6,Qxh5,Bc6,axb6,axb6,Ra7,Rf5,Qg4,h5,Qe2,Bb5,Qd1,Bxf1,Qxf1,Bh4,g3,Bg5,h4', 'Bxe3,fxe3,Rxf1+', 'https://lichess.org/training/Iw3jV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IW5AC', 'Rapid', 'alpha1142', 1662, 'salarsalimi', 1612, 'e4,e6,d4,b6,Nf3,Bb7,Nc3,g6,Bc4,Bg7,O-O,Qe7,Bg5,Bf6,Bxf6,Nxf6,Re1,Nc6,e5,Nh5,d5,Na5,dxe6,dxe6,Bb5+,Bc6,Bxc6+,Nxc6,Nb5,Nf4,Qd2,Nd5,c4,Ndb4,a3,Na6,Rad1,Nc5,Qh6,Nd7,Ng5,O-O-O,Nf3,Kb8,Qe3,h5,Qe4,Qc5,Ng5,Ncxe5,h3,f6,Nxe6,Qe7,Nxd8,Rxd8,f4,Qc5+,Kh2,Nxc4,Rd5,Qc6,Nxa7,Kxa7,Rc1,b5,Rxc4,bxc4', 'Ra5+,Kb6,Ra6+,Kxa6,Qxc6+', 'https://lichess.org/training/IW5AC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iw67f', 'Blitz', 'Beastgrind', 1962, 'Djack4', 1988, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,O-O,Nbd7,Kh1,b5,a3,Bb7,Bf3,Be7,Qe2,O-O,g4,Ne5,g5,Nxf3,gxf6,Nxd4,fxe7,Qxe7,Qd3,e5,Be3,Ne6,f3,Rac8,Qd2,Qh4,Rg1,Rcd8,Nd5,Bxd5,exd5,Nf4,Rg4,Qh3,Rg3,Qf5,Rag1,g6,Rg5,Qf6,Bxf4,exf4,Qd3,Rfe8,Rf5,Qxb2,Rxf4,Qg7,Rg5,Re5,Rg1,Rde8,h4,h5,a4,bxa4,Qxa6,Rxd5,Qxa4,Rde5,Qc6,d5,Rg5,Rxg5', 'Qxe8+,Qf8,Qxf8+,Kxf8,hxg5', 'https://lichess.org/training/iw67f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iw7F6', 'Rapid', 'NagualPeter', 1751, 'ssosnicki88', 1713, 'e4,e5,g3,d6,Bg2,Nf6,d3,Nc6,b3,h6,Bb2,Be7,Nd2,Bg4,f3,Bh5,Ne2,Qd7,c4,O-O-O,Qc2,d5,exd5,Nb4,Qc3,Qf5,g4,Nxd3+,Kf1,Bxg4,Ne4,Nxe4,Qxd3,Bg5', 'Qxe4,Qxe4,fxe4', 'https://lichess.org/training/iw7F6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iw8kL', 'Classical', 'hugozwolle', 1836, 'Sybet', 1634, 'c4,Nc6,Nc3,e5,e4,g6,Nf3,Bg7,a3,Nd4,d3,c5,b4,b6,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/Iw8kL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iWAgR', 'Rapid', 'gwerz', 1781, 'bluesky20188', 1933, 'd4,d5,Bf4,e6,Nf3,Bd6,Bg3,Bxg3,hxg3,Nf6,Nbd2,a6,c3,b5,Qc2,Bb7,Ne5,Nbd7,Ndf3,h6,e3,Qe7,Be2,O-O-O,a4,b4,O-O,h5,Rfc1,bxc3,Qxc3,Nxe5,Nxe5,Ne4,Qa5,Rd6,Rc2,h4,Rac1,hxg3,Rxc7+,Kb8,f3,Rh1+,Kxh1', 'Qh4+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/iWAgR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWBz4', 'Rapid', 'CongoRebel', 1989, 'korodo', 1768, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,a5,Bd3,f6,O-O,Be7,dxc5,Bxc5,Qe2,Nxe5,Nxe5,fxe5,Qxe5,Nf6,Nd2,O-O,h3,Qd6,Nf3,Qxe5,Nxe5,Bd6,f4,Bxe5,fxe5,Nd7,Rxf8+,Kxf8,Bf4,Kg8,c4,Nc5,Be2,dxc4,Bxc4,b6,Re1,Ba6,Ba2,Nd3,Bxe6+,Kh8,Rf1,Nxb2,Rb1,Nd3,Bg3,b5,Rd1,Nc5,Ba2,b4,axb4,axb4,Bf7,h6,Rb1,Ne4,Bh2,Ng5,Bd5,Rd8,Bc6,Rf8,h4,Nf7,Bg3,Nd8,Bd5,Bd3,Rxb4,Bg6,e6,Re8,Rb6,Bf5,Be5,Nxe6,Rb7,Rg8,Bxe6,Bxe6,Rb6,Bd5', 'Rxh6#', 'https://lichess.org/training/IWBz4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iWcHF', 'Blitz', 'faros', 1607, 'AxiomMagnus', 1554, 'e4,d5,exd5,c6,dxc6,Nxc6,d3,e5,Nf3,Bd6,Be2,Bg4,O-O,Qc7,h3,h5,hxg4,hxg4,Ng5,e4,Bxg4', 'Bh2+,Kh1,Bg1+,Kxg1,Qh2#', 'https://lichess.org/training/iWcHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwCLh', 'Rapid', 'monai', 1822, 'naborjs', 1954, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Bc5,O-O,h6,Nc3,O-O,Qe2,d5,exd5,Bg4,Qd2,Nxd5,Nxd5,cxd5,Qf4,f5,Be3,Bd6,Qd4,c5,Qxd5+,Kh8,Bxc5', 'Bxh2+,Kxh2,Qxd5', 'https://lichess.org/training/IwCLh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iWCmD', 'Blitz', 'AmroMadianAlex', 1982, 'aqqalo', 1869, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,h6,Nf3,Nc6,Bxf6,Bxf6,cxd5,exd5,Qb3,Ne7,e4,dxe4,Nxe4,Bxd4,Rd1,Nc6,Bb5,O-O,Bxc6,Bxf2+,Kxf2,Qe7,Bd5,c6,Bxf7+,Rxf7,Nd6,Be6,Qe3,Rf6,Rhe1,Qc7,Ne4,Rff8,Kg1,Rae8,Qc5,Bg4,Qc4+,Kh8,Ned2,Qb6+,Kh1,Qxb2,Rxe8,Rxe8,Qf7,Re2,Ne4,Rxe4,Rd8+,Kh7,Qg8+,Kg6,Rd6+,Kh5', 'Qf7+,g6,Qxg6#', 'https://lichess.org/training/iWCmD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwCOQ', 'Blitz', 'wizardmen123', 1515, 'wowa22', 1509, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Be3,Be7,O-O-O,a5,a3,Bd7,h4,h6,h5,b5,Nxb5,Bxb5,Bxb5+,Kf8,Bc6,Rb8,Qd2,Ng4,Qxa5,Nxe3,fxe3,Bg5,Qd2,Rb6,Bd5,Qb8,b3,Qa7,Kb2,Ra6,Qb4,Bxe3,Rde1,Bc5,Qb5,Bxa3+,Kb1,Bc5,Bxf7,Ra1+,Kb2', 'Bd4+,c3,Qa2#', 'https://lichess.org/training/IwCOQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwfLL', 'Rapid', 'gecicek', 1668, 'panther982', 1691, 'e4,d5,d4,c5,Nc3,cxd4,Qxd4,Nc6,Qxd5,Qa5,Qd3,Nf6,Nf3,Nb4,Qd2,e5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Rd8,Rd1,Be7,Qe2,O-O,a3,Nc6,Nd5,Nf6,b4,Bxb4,Nxb4,Rxd1+', 'Qxd1,Nxb4,Bd2', 'https://lichess.org/training/iwfLL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iWfSN', 'Rapid', 'raj7saggi', 1610, 'Kettuherra', 1642, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Nxe5,Qe7,d4,d6,Qe2,Bf5,Bd5,dxe5,Bxe4,Bxe4,Qxe4,exd4,Nd2,Nc6,O-O,Qxe4,Nxe4,O-O-O,Bf4,d3,cxd3,Rxd3,Rac1,h6,Nc3,g5,Bg3,f5,h3,f4,Bh2,Bg7,Rfe1,Nb4,Re7,Bxc3,bxc3,Nxa2,Ra1,Nxc3,g4,Kd8,Rg7,a6,Kg2,Re8,Rc1,Re6,h4,Kc8,hxg5,hxg5,Rxg5,Rd5', 'Rg8+,Rd8,Rxd8+,Kxd8,Rxc3', 'https://lichess.org/training/iWfSN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwGB2', 'Rapid', 'KG121', 1607, 'zoranlaza', 1706, 'e4,e5,Nf3,Nf6,d3,Bc5,Bg5,d6,Nc3,c6,a3,Bg4,Na4,Bb6,Nxb6,axb6,Be2,Nbd7,h3,Bxf3,Bxf3,h6,Bh4,O-O,d4,exd4,Qxd4,Qe7,Bxf6,Nxf6,O-O,c5,Qd3,Qc7,Rad1,Rad8,Rfe1,Nh7,Qd5,Ng5,e5,Nxf3+,gxf3,dxe5,Qxe5', 'Qxe5,Rxe5,Rxd1+', 'https://lichess.org/training/iwGB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iWHQi', 'Rapid', 'a1b', 1807, 'adiso', 1840, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,d4,Bg4,f3,Bh5,Ne2,e6,O-O,Bd6,Nbc3,O-O,Bf4,Bb4,a3,Ba5,Nc1,Nbd7,Nd3,Rc8,Ne2,Bg6,Ne5,Bb6,c3,a6,h4,Nh5,Bh2,Nxe5,Bxe5,Qxh4,Bc2,Qg5,Bd6,Rfd8,Bh2,Qe3+,Kh1,Bxc2,Qxc2,Nf6', 'Bf4,Qxf4,Nxf4', 'https://lichess.org/training/iWHQi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwhvi', 'Blitz', 'KasperVld', 1509, 'svingesvein', 1502, 'd4,e6,Bf4,d5,e3,Bd6,Bg3,c5,c3,Nc6,Nd2,b5,Ngf3,b4,Bd3,a5,c4,dxc4,Bxc4,Bb7,Qa4,cxd4,Nxd4,Qc7,Bb5,Ne7,O-O,O-O,Rac1,Bxg3,hxg3,Rfd8,N2f3,Qd6,Nxc6,Nxc6,Bxc6,Bxc6,Rxc6,Qd7,Rd1,Qe8,Rxd8,Rxd8,Nd4,e5,Nf3,Rd6,Nxe5,f6,Qxa5', 'Rd1+,Kh2,Qh5#', 'https://lichess.org/training/iwhvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWI01', 'Rapid', 'adechess', 1734, 'galina13', 1713, 'e4,e5,Nc3,c6,d4,exd4,Qxd4,d6,Nf3,Nf6,Bf4,Be7,O-O-O,O-O,Bxd6,Bxd6,Qxd6,Qxd6,Rxd6,Bg4,Be2,Nbd7,e5,Bxf3,exf6,Bxe2,Nxe2,Nb6,fxg7,Kxg7,Nf4,Rae8,f3,Re7,Rhd1,Rfe8,Nh5+,Kh8,Rf6,Nd5,Rf5', 'Ne3,Nf6,Nxf5', 'https://lichess.org/training/IWI01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWI6L', 'Classical', 'LAURE17-Inmemoriam', 2096, 'grafin', 1726, 'd4,d5,Bf4,Nf6,e3,h5,h3,e6,c3,Bd6,Bxd6,Qxd6,f4,Ne4,Nd2,Ng3,Rh2,Qe7,Bd3,g5,Kf2,gxf4,exf4,Qh4,Ngf3', 'Ne4+,Kg1,Qf2+,Kh1,Ng3#', 'https://lichess.org/training/IWI6L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWiHB', 'Rapid', 'McFreewin', 887, 'SofiiaM', 821, 'd4,d5,Nc3,Nc6,Nf3,Be6,Be3,Qd7,b3,O-O-O,Qd2,b6,O-O-O,Nf6,g3,g6,Nb5,a6,Nc3,h5,Bf4,Bh6,e3,Bg4,Bxa6+,Kb8,Be2,Bxf3,Bxf3,Nb4,e4,Nxa2+,Nxa2,dxe4,Bxe4,Nxe4,Qe3,Nf6,Nc3,Qd5,Nxd5,Nxd5,Qf3,Nxf4,gxf4,Rd6,Rd3,Rf6,Qe4,Rxf4,Qxe7', 'Re4+,Kd1,Rxe7', 'https://lichess.org/training/IWiHB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iwim7', 'Rapid', 'tv9chess', 1823, 'Willian2018', 1832, 'e4,c5,Nf3,g6,c3,Bg7,Na3,d6,Bb5+,Nd7,Qb3,a6,Ng5,e6,Bxd7+,Qxd7,d4,cxd4,cxd4,Bxd4,O-O,Ne7,Qf3,O-O,Qh3,h5,Nf3,Bg7,Bg5,e5', 'Qxd7,Bxd7,Bxe7', 'https://lichess.org/training/Iwim7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwInq', 'Rapid', 'Math_er', 1757, 'Angela_Davis', 1771, 'e4,c6,b3,d5,exd5,cxd5,Bb2,Bf5,c4,dxc4,Bxc4,Nf6,Bxf6,exf6,Qf3,Qd7,Nc3,Bb4,Nge2,O-O,O-O,Be6,Bd3,Nc6,Qe4,g6,Bb5,a6', 'Bxc6,Qxc6,Qxb4', 'https://lichess.org/training/iwInq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iWKKH', 'Classical', 'mmtaydnlkk', 1696, 'tacticspower', 1797, 'b3,d5,Bb2,Nc6,d4,Nf6,Nc3,e6,g3,Bb4,Bg2,O-O,e3,Bd7,Nf3,Ne4,Qd3,Qf6,O-O,Nxc3,Bxc3,Bxc3,Qxc3,Rac8,a4,a5,Ne5,Nxe5,dxe5,Qf5,f4,b6,Rae1,c5,e4,dxe4,Bxe4,Qg4,Bxh7+,Kxh7,Qd3+,Qf5,Qxd7,Qxc2,f5,Qxb3,fxe6,Qxe6,Rxf7', 'Qxf7,Qxf7,Rxf7', 'https://lichess.org/training/iWKKH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWkQ3', 'Blitz', 'FM labestia2017', 2241, 'Gecha_Seredckoj', 2079, 'e4,g6,d4,Bg7,Nc3,d6,f4,a6,Nf3,e6,Be3,Ne7,Qd2,h6,O-O-O,Nd7,h4,Nf6,e5,Ng4,Bg1,d5,h5,Nf5,hxg6,fxg6,Bd3,Bd7,Rh3,Qe7,Nh2,Nxh2,Bxh2,h5,Rg1,h4,g4,hxg3,Rxh8+,Bxh8,Bxg3,O-O-O,Qf2,Bg7', 'Bxf5,gxf5,Bh4', 'https://lichess.org/training/IWkQ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iWKu7', 'Rapid', 'Luksorr', 1841, 'Mauronahuel', 2086, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,Qe7,dxe5,Nxe5,Nxe5,Qxe5,f4,Qxe4+,Be2,Qxg2,Bf3,Qh3,Qe2+,Qe6,Be3,Nf6,O-O,Bb6,Re1,O-O,Bxb6,Qxb6+,Kh1,d6,Nd2,Be6,Reb1,Qc5,Bxb7,Bd5+,Bxd5,Nxd5,Ne4,Qc6,Qf3,Nxc3', 'Nf6+,Kh8,Qxc6', 'https://lichess.org/training/iWKu7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwKV6', 'Blitz', 'JavierAG', 1893, 'PitM', 1849, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Nf6,O-O,O-O,Bg5,c6,c3,h6,Be3,Qc7,h3,Ne4,Nbd2,f5,Rc1,Nd7,c4,Nxd2,Bxd2,dxc4,Bxc4+,Kh8,Nh4,Kh7,Qh5,Nf6,Qg6+,Kh8,Bxh6,gxh6', 'Qxh6+,Qh7,Ng6#', 'https://lichess.org/training/iwKV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwLRT', 'Blitz', 'The_whip', 2378, 'IamonFire_Nje', 2338, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,c6,Qe2,Be6,Bb3,g6,Nf3,Bg7,Ng5,Nxc3,dxc3,Bxb3,axb3,O-O,O-O,Nd7,Re1,e6,Be3,Nb6,Rad1,Qe7,b4,Nd5,Ne4,Nxe3,Qxe3,a5,Nc5,axb4,cxb4,Bxb2,Rd7,Qf6,Rxb7,Rfd8,g3,Bd4,Qe2,Bc3,Rd1', 'Rxd1+,Qxd1,Ra1,Qxa1,Bxa1', 'https://lichess.org/training/iwLRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwoaP', 'Blitz', 'NM chess_rehab', 2333, 'auf3augedaemlich', 2218, 'e4,c6,d4,d5,Nc3,e6,Nf3,f5,exf5,exf5,Bd3,Nf6,O-O,Bd6,Re1+,Ne4,Ng5,O-O,Qh5,h6,Bxe4,fxe4,Ngxe4,dxe4,Nxe4,Bf4,Bxf4,Rxf4,Qg6,Bf5', 'Nf6+,Qxf6,Re8+,Qf8,Rxf8+', 'https://lichess.org/training/iwoaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWODz', 'Rapid', 'pndreax', 1691, 'Eniacknight', 1625, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,d5,exd5,Nxd5,O-O,Bg4,Re1,Qd7,Nxe5,Nxe5,Rxe5+,Be7,Qe1,Be6,Bxd5,Bxd5,c4,Be6,Qe4,O-O-O,Be3,Qxd3,Nc3,Bb4,Qxd3,Rxd3,Rd1,Rhd8,Rxd3,Rxd3,h3,Bxc3,bxc3,Rxc3,Bxa7,Rxc4,Be3,Ra4,Rc5,Rxa2,Bd4,g6,Be5,c6,Bf6,Re2,Rc1,Kc7,Rd1,b5,Bd8+,Kb7,g3,Bxh3,f3,Be6,Kf1,Rb2,g4,c5,Rc1,Kc6,Be7,c4,Bf6,Ra2,Bg7,h5,gxh5,gxh5,Be5,b4,Rd1,Kb5,Rd6,b3,Rd8,b2,Rb8+,Kc5,Bxb2,h4,Kg1,Bd5,f4,f5,Be5,Be4,Rc8+,Kd5,Rh8,Ra3,Rxh4,c3,Rh8,c2,Rc8,Ra1+', 'Bxa1,c1=Q+,Rxc1', 'https://lichess.org/training/IWODz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwOW8', 'Rapid', 'Francisco_Mora', 1905, 'Abidish', 2059, 'd4,e6,Nf3,d5,e3,c5,c4,Nc6,Nc3,cxd4,Nxd4,Nxd4,exd4,Nf6,g3,Qc7,cxd5,exd5,Bg2,Bd6,O-O,O-O,Nxd5,Nxd5,Bxd5,Be6,Bg2,Rad8,b3,Qb6,Bb2,Be5,Qh5,Bxd4,Bxd4,Rxd4,Rad1', 'Bg4,Rxd4,Bxh5', 'https://lichess.org/training/iwOW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwOyP', 'Rapid', 'Nagathemonk', 1653, 'gajji', 1734, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,Nf6,dxe5,Nxe4,O-O,d5,Bxd5,Nc5,Nc3,Be7,Bxc6+,bxc6,Re1,O-O,Bf4,Bg4,h3,Bxf3,Qxf3,Qd7,Rad1,Qe6,Qg3,Kh8,a3,Rad8,b4,Nb7,Ne4,Rxd1,Rxd1,f5,Nd2,Rd8,Rc1,g5,Be3,f4,Bxf4,gxf4,Qxf4,Bg5,Qf3,Rxd2,Re1,Nd6,Qxc6,Qf7,Rf1,Ne4,Qxe4,Rxc2,e6,Qh7,Qa8+,Kg7,Qxa7,Qf5,Qd4+,Bf6,Qd6,Be5,Qd7+,Kf6,Qf7+,Kg5,h4+,Kg4,f3+,Kf4,g3+,Kxg3,Qxf5', 'Bd4+,Kh1,Rh2#', 'https://lichess.org/training/IwOyP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwQQA', 'Rapid', 'echess2016', 1620, 'sol2016', 1652, 'd4,d5,g3,e6,Bg2,Nf6,c4,c6,e3,Ne4,Qd3,Nd6,c5,Nc4,b3,Qa5+,Nd2,Nxd2,Bxd2,Qc7,Nf3,b6,b4,Ba6,Qc3,b5,a4,bxa4,Rxa4,Bb5,Ra5,Be7,Ne5,Bd8,e4,Qe7,exd5,Bxa5,bxa5,exd5,Qe3,O-O,f4,Nd7,Nxd7,Qxd7,Kf2,Rfe8,Qc3,Re2+,Kf3,a6,Bf1,Ree8,Bg2,Qe6,Re1,Qg6,Rxe8+,Rxe8,Kf2,Qh5,Be3,Qxh2,Kf3,Qh5+,g4,Qh4,Qd2,Qd8,g5,g6,Bh3,Qe7,Kf2,Qe4,Bg2,Qe7,Bh3,f6,f5,fxg5,fxg6,Qf6+,Kg3,Qxg6,Bg4,h6,Bf2,Qf6,Bh5,Re7,Qc2,Re2', 'Bxe2,Bxe2,Qxe2', 'https://lichess.org/training/IwQQA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwR4U', 'Rapid', 'Tomassachy789cz', 2079, 'MomenTum-30', 2030, 'e4,a6,d4,b5,Ne2,Bb7,Ng3,e6,Bf4,c5,c3,Nf6,Bd3,c4,Bc2,d6,Nd2,Be7,O-O,Nbd7,Re1,e5,Be3,g6,Nf3,Qc7,d5,h6,Nd2,h5,f4,h4,Ngf1,Rh5,Qf3,Bd8,Bd1,Rh7,f5,Qa5,Qh3,Bb6,Bg4,Bxe3+,Nxe3,Nxg4,Qxg4,Nf6,Qg5,Qd8,fxg6', 'Rh5,gxf7+,Kxf7,Qxh5+,Nxh5', 'https://lichess.org/training/iwR4U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwRa0', 'Classical', 'FishFromGY', 1853, 'meddico', 1654, 'd4,e6,Nf3,b6,Bf4,Bb7,e3,h6,Be2,Nf6,h3,Nh5,Bh2,d6,O-O,Nd7,Nbd2,Be7,c4,O-O,b4,Nhf6,Rc1,Ne4,Nxe4,Bxe4,d5,e5,Nd2,Bh7,e4,Nf6,Bd3,a5,b5,Bg6,f4,Bh5,g4,Bg6,fxe5,dxe5,Bxe5,Bd6,Bxf6,gxf6,Qf3,Be5,h4,Qd6,h5,Bd4+,Kg2,Bh7,e5,Bxe5,Bxh7+,Kxh7,Qf5+,Kg8,Nf3,Rae8,Nxe5,Rxe5,Qxf6', 'Re2+,Rf2,Qxf6', 'https://lichess.org/training/iwRa0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWRfA', 'Blitz', 'MiddlemistRed', 1891, 'komodor61', 1883, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,h4,h5,Bd3,Bxd3,Qxd3,e6,Bg5,Bd6,Ne4,Be7,O-O-O,Nbd7,Ne5,Nxe5,dxe5,Qxd3,Nxf6+,gxf6,Rxd3,fxg5,hxg5,Bxg5+,Kb1,Rd8,Rb3,Rd7,g3,Ke7,f4,Bh6,a3,Bf8,Rf1,h4,gxh4,Rxh4,f5,exf5,Rxf5,Re4,Rbf3,Ke6,Rf6+,Kxe5,R3f5+,Kd4,c3+,Kd3,Rf3+,Re3,Rf1,Ke2', 'R6f2+,Kd3,Rd1+,Kc4,Rxd7', 'https://lichess.org/training/IWRfA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwrQM', 'Rapid', 'rosoha', 1915, 'Guruk2009', 1981, 'd4,b6,f4,Bb7,Nd2,e6,Ngf3,Nf6,e3,Be7,Be2,O-O,O-O,d6,c4,Nbd7,b4,c5,bxc5,dxc5,Bb2,Rc8,Qa4,Bc6,Qc2,cxd4,Nxd4,b5,Nxc6,Rxc6,Qb3,bxc4,Nxc4,Nc5,Qd1,Nfe4,Ne5,Rd6,Qc2', 'Rd2,Qc4,Rxb2', 'https://lichess.org/training/iwrQM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWs3R', 'Blitz', 'Ravi_555', 1558, 'Aleksandrf333', 1599, 'd4,f5,Nf3,Nf6,Nc3,e6,Bg5,Be7,e4,fxe4,Ne5,d5,Bxf6,Bxf6,Qh5+,Ke7', 'Qf7+,Kd6,Nb5#', 'https://lichess.org/training/IWs3R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWSJ0', 'Classical', 'GregCardona', 1931, 'ma1ah', 1885, 'c4,Nf6,Nc3,g6,Nf3,Bg7,d4,O-O,e3,c5,Be2,cxd4,exd4,d5,O-O,dxc4,Bxc4,Nbd7,Re1,Nb6,Bd3,Bg4,Be3,Nfd5,Nxd5,Nxd5,h3,Nxe3,fxe3,Be6,a3,Rc8,Rc1,Qb6,Qd2,Bb3,Rc3,Rxc3,Qxc3,Qe6,e4,Rc8,Qb4,Bc2,Bxc2,Rxc2,Qxb7,Qb6,Qxb6,axb6,Rb1,Re2,e5,e6,b4,Bh6,Kf1,Ra2,Rb3,Bc1,Rc3,Bxa3,b5,Bb4,Rc6,Ba5,Ng5,Rd2,Rc7,Rxd4,Nxf7', 'Rf4+,Kg1,Rxf7', 'https://lichess.org/training/IWSJ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwsjD', 'Rapid', 'm4_cyclic_v20190131', 1613, 'TRhasan', 1653, 'd4,g6,e4,Bg7,f4,d6,Nf3,Nf6,e5,dxe5,dxe5,Qxd1+,Kxd1,Nfd7,Nc3,O-O,Ne4,f6,e6,Nb6,a4,Bxe6,b3,Rd8+,Ned2,Nd5,Bb2,Nxf4,g3,Nh5,Kc1,Bh6,Bg2,Bd5,Rg1,Bxf3,Bxf3,Bxd2+,Kb1,Ng7,Bxb7,Nd7', 'Bxa8,Rxa8,Rd1', 'https://lichess.org/training/IwsjD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwsMS', 'Blitz', 'IM Wilsonpalencia', 2443, 'Mykingislonely', 2488, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,g4,Rb8,h4,h5,gxh5,Nxh5,Rg1,Qb6,Nb3,Qd8,O-O-O,b5,f4,a5,f5,b4,Nd5,Ne5,Be2,Nf6,Nxf6+,exf6,Bh6,a4,Nd4,b3,cxb3,axb3,a3,d5,Bxg7,Kxg7,fxg6,fxg6,Nf5+,Kf7,Qh6,Bxf5,exf5,Qc7+,Kb1,Qc2+,Ka1,Qxe2,fxg6+,Ke6,Rge1,Qf3,Qh7,Rbd8,h5,Rd7', 'g7,Rxg7,Qxg7', 'https://lichess.org/training/IwsMS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWT99', 'Blitz', 'NM isainz', 2125, 'stephanosaucedo', 2098, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,Bg7,g3,Rb8,Bg2,Be6,c3,O-O,Nc2,Ne7,Ncb4,a5,Nxe7+,Qxe7,Nc6,Qc7,Nxb8,Rxb8,O-O,b4,cxb4,Rxb4,b3,Bh6,f4,Rd4,Qh5,Bg7,Rac1,Qb6,Kh1,Rd2,fxe5,dxe5,Rfd1,Rxa2,Rd5,Bxd5,Rc8+,Bf8', 'Qg4+,Kh8,Rxf8#', 'https://lichess.org/training/IWT99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwTcJ', 'Blitz', 'TrumpisGOD', 1805, 'maurinho', 1790, 'd4,d5,c4,e6,e3,Nf6,Nf3,Be7,Nc3,O-O,cxd5,Nxd5,Bd3,Nc6,O-O,Ncb4,Bb1,Bd7,a3,Nc6,h4,Bxh4,Nxh4,Qxh4,e4,Nf6,Be3,Rad8,Qd2,Ng4,Bf4,e5,Bg3,Qh5,d5,Nd4,Bd3,Nb3,Qe2,Nxa1,Rxa1,c6,f3,Nf6,Kf2,cxd5,exd5,Rfe8,Ne4,Nxd5,Ke1,Nf4,Bxf4,exf4,Kd2,f5,Bc4+,Kh8,Qd3,Bc6,Nd6,Rd7,Bf7,Qg5,Bxe8,Qxg2+,Kc3,Re7,Nf7+,Kg8,Qc4,Bxe8', 'Nh6+,Kf8,Qg8#', 'https://lichess.org/training/iwTcJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwtH5', 'Rapid', 'fanatic22779', 1962, 'Rozneg', 1862, 'Nf3,f5,h4,Nf6,h5,e6,h6,g6,d3,d5,Bg5,Be7,Nc3,O-O,Ne5,Nbd7,Nxg6,hxg6,Qd2,Nh7,Bxe7,Qxe7,O-O-O,Qg5,e3,a6,f4,Qe7,Be2,b5,g4,Kh8,gxf5,gxf5,Rdg1,Bb7,Bh5,Rg8,Ne2,Rxg1+,Rxg1,Rg8,Qc3+,Ndf6,Bg6,c5,Qe5,Qd7', 'Bxh7,Kxh7,Qxf6', 'https://lichess.org/training/IwtH5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwUfG', 'Rapid', 'Fastgenial', 1959, 'MeTaricAndEzreal', 1952, 'd4,g6,e4,Bg7,Nc3,d6,Nf3,a6,Bc4,e6,Bg5,Ne7,Qd2,b5,Bd3,Nd7,O-O,c5,dxc5,Nxc5,Rfe1,O-O,Bh6,Bb7,Bxg7,Kxg7,Rad1,d5,Qe3,Nxd3,Rxd3,Qc7,Qd4+,Kg8,exd5,Nxd5,Nxd5,Bxd5,b3,Qxc2,Ne5,Rac8,Nd7,Rfd8,Nf6+,Kf8,Nxh7+,Kg8,Nf6+,Kf8,Nxd5,Rxd5,Qh8+,Ke7,Qh4+,Kf8,Rxd5,exd5', 'Qh8#', 'https://lichess.org/training/IwUfG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iWUPj', 'Rapid', 'Alf14', 2173, 'danrad', 1980, 'e4,c5,Nf3,Nc6,g3,Qc7,Bg2,Nf6,Qe2,Nd4,Nxd4,cxd4,O-O,e5,d3,Be7,f4,d6,h3,g6,Na3,Bd7,Nc4,b5,fxe5,Nh5,Nxd6+,Bxd6,exd6,Qxd6,e5,Qe6,Bf4,O-O-O,Qe4,Qb6,Qa8+,Qb8,Qxb8+,Kxb8,e6+,Nxf4,exd7,Nxg2,Kxg2,Rxd7,Rf6,Rc8,Rf2,Rdc7,Rc1,b4,Kf3,f5,Kf4,Rc5,g4,a5,Re2,fxg4,hxg4,a4,Ke4,Re8+,Kf3,Rxe2,Kxe2,Kc7,Kd2,Kd6,Rh1,h5,gxh5,Rxh5,Rf1,Ke6,Rf4,Rh2+,Kd1,Ke5,Re4+,Kd5,a3,b3,cxb3,axb3,Kc1,Rh1+,Kd2,Rb1,Rg4,Rxb2+,Kc1,Rc2+,Kb1,Rc6', 'Rg5+,Kd6,Rxg6+,Kc7,Rxc6+,Kxc6,Kb2', 'https://lichess.org/training/iWUPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwuqT', 'Rapid', 'shahin8', 1790, 'GIon001', 1910, 'e4,e5,Nf3,Nf6,Nc3,a6,d4,exd4,Nxd4,d6,Qf3,Be7,Nf5,Bxf5,Qxf5,O-O,Nd5,Nxd5,Qxd5,c6,Qb3,b5,Qg3,Kh8,Bd3,Nd7,b3,Bf6,Rb1,Nc5,Bb2,Nxd3+,Qxd3,Bxb2,Rxb2,Re8,O-O,Qf6,Rbb1,Qe5,Rfe1,Rad8,Rbd1,Re7,Qd2,g6,Qa5,Red7,Qb6,d5,Qxa6,dxe4', 'Rxd7,Rxd7,Qc8+,Kg7,Qxd7', 'https://lichess.org/training/IwuqT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwvHH', 'Rapid', 'worliiid', 1724, 'Madhu1336', 1764, 'e4,e5,Bc4,Nc6,c3,Bc5,Qg4,Qf6,Nf3', 'd5,Qg3,dxc4', 'https://lichess.org/training/iwvHH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iWvPa', 'Rapid', 'Jugaral', 1810, 'KOLLYWOOD', 1871, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,Nf6,c3,Nxe4,Re1,Nf6,d4,cxd4,cxd4,e6,d5,Na5,Bb5+,Bd7,Bxd7+,Qxd7,dxe6,fxe6,Nd4,e5,f4,Nc6,fxe5,Nxe5,Bf4,O-O-O,Nc3,Kb8,a4,Ng6,Bg5,Rc8,Bxf6,gxf6,Nd5,Bg7,Nb5,a6', 'Nb6,Qd8,Nxc8', 'https://lichess.org/training/iWvPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwWdX', 'Blitz', 'Nato-gm', 2063, 'Kadis', 2038, 'e4,d6,d4,c6,c4,Qc7,f4,Nd7,Nf3,e5,fxe5,dxe5,d5,Ngf6,Nc3,Bb4,Bd3,cxd5,exd5,e4,Qe2,O-O,Bxe4,Re8,O-O,Bxc3,bxc3,Rxe4,Qc2,Qxc4,Kh1,Nxd5,Ng5,Rh4,Rxf7,Qxc3,Qf2,Qxa1', 'Rf8+,Nxf8,Qf7+,Kh8,Qxf8#', 'https://lichess.org/training/IwWdX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwWmw', 'Classical', 'mrcotic', 1817, 'Potnes', 1783, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,Bg4,Be2,Nf6,O-O,e6,Bg5,Be7,Re1,Bxf3,Bxf3,O-O,Ne2,Qb6,b3,h6,Be3,Rac8,c4,dxc4', 'd5,Qa6,dxc6', 'https://lichess.org/training/IwWmw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iWWOX', 'Blitz', 'hzavala', 1956, 'delonyem', 1898, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be2,h5,O-O,Ng4,c3,Qh4,Bxg4,hxg4,Bf4,Bd6,e5,Be7,d4,Be6,Bg3,Qh6,Qd2,Bg5,Qe2,O-O-O,a4,f5,f3,Be3+,Kh1,Qxh2+,Bxh2,Rxh2+,Kxh2', 'Rh8+,Kg3,f4#', 'https://lichess.org/training/iWWOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iWwpp', 'Rapid', 'BjarneLehmann', 1620, 'AR5', 1989, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,a4,O-O,c3,a6,Nbd2,Na5,Ba2,Nc6,b4,Ba7,b5,axb5,axb5,Ne7,Nxe5,d6,Nef3,Ng6,O-O,Bd7,c4,Bg4,Bb2,Ne5,Bxe5,dxe5,Nb3,Qd7,Re1,Rfe8,Bb1,Bxf2+,Kxf2,Rxa1,Nxa1,Bxf3,Qxf3', 'Qd4+,Kg3,Qxa1', 'https://lichess.org/training/iWwpp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWXhm', 'Classical', 'wallboris', 1847, 'anupam2008', 1766, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,Nf6,e5,d5,Bb5,Ne4,cxd4,Bb4+,Nbd2,Bg4,O-O,O-O,Nb3,f6,exf6,Rxf6,Be2,Rg6,a3,Bd6,Nc5,Bh3,Nxb7,Rxg2+,Kh1,Qd7,Nxd6,Qg4,Nxe4', 'Rxh2+,Nxh2,Qg2#', 'https://lichess.org/training/IWXhm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IwXur', 'Rapid', 'Jihes', 1803, 'hojat_bach', 1817, 'e4,c5,Bc4,Nc6,f4,d6,Nf3,Bg4,O-O,Nf6,Bxf7+,Kxf7,e5,dxe5,fxe5,Qd4+,Kh1,Nxe5,Nxd4,Bxd1,Rxd1,cxd4,Rf1,g6,d3,Kg7,Bf4,Neg4,h3,Ne3,Rf2,Rc8,c3,dxc3,Bxe3,cxb2,Rxb2,b6,Na3,e5,Nc4,e4,Ne5,exd3,Nxd3,Bd6,Rf2,Rhf8,Nf4,Bxf4,Bxf4,Nh5,Be5+,Kg8,Rxf8+,Kxf8,a3,Kf7,Bd6,Nf6,Rf1,Rc6,Bb4,a5,Bd2,Kg7,Bg5,Ne4,Bf4,g5,Be5+,Kg6,Rb1,Nc5,Rc1,h5,Bd4,Kf5,Kh2,g4,hxg4+,hxg4,Rf1+,Ke4,Bf6,Ke3,Re1+,Kf2', 'Bh4+,g3+,Bxg3#', 'https://lichess.org/training/IwXur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iwycY', 'Rapid', 'krissstyan', 1831, 'Moonsy6', 1787, 'd4,d5,Bf4,Nc6,e3,Nf6,c3,Bf5,Nf3,e6,Nbd2,Bd6,Bg3,O-O,Be2,Re8,Ne5,Ne4,Nxe4,Bxe4,f3,Bf5,Bd3,Nxe5,dxe5,Bc5,Qd2,c6,b4,Be7,O-O,Bh4,Rad1,Bxg3,hxg3,Qg5,Qf2,a5,a3,axb4,axb4,Ra3,Bxf5,Qxf5,Qb2,Rea8,f4,Qe4,Rf3,Ra2,Qb1,Ra1,Qxa1,Rxa1,Rxa1,g6,Ra8+,Kg7,Rb8,Qc4,Rxb7,Qxc3,e4,Qd4+,Kh2,Qxe4,Rb6,Qc4,Ra3,d4,Raa6,d3,Rxc6,Qxb4,Rd6,d2,Ra7', 'Qxd6,exd6,d1=Q', 'https://lichess.org/training/iwycY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IWzbk', 'Rapid', 'zukandro', 2016, 'Wissamramadan', 2027, 'd4,d6,c4,Bf5,Nc3,Nf6,Bg5,e6,e4,Bg6,e5,dxe5,dxe5,Qxd1+,Rxd1,Nfd7,f4,Nc6,a3,h6,Bh4,Bc2,Rd2,Bb3,Nf3,Nb6,Nb5,Rc8,Nfd4,Bxc4,Nxc6,Bxf1,Rxf1,bxc6', 'Nxc7+,Rxc7,Rd8#', 'https://lichess.org/training/IWzbk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ix0Hy', 'Rapid', 'catafalque', 1890, 'julio899', 1866, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Nc6,O-O,e5,d5,Ne7,Ne1,a5,Nd3,Nd7,Bg5,h6,Be3,f5,exf5,Nxf5,Ne4,Nf6,Nxf6+,Qxf6,Rc1,b6,Qd2,Rf7,a3,a4,Nb4,Bd7,Na2,h5', 'Bg5,Bh6,Bxh6,Nxh6,Qxh6', 'https://lichess.org/training/ix0Hy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ix26X', 'Rapid', 'VSK-Minan', 1851, 'Paerhc', 2136, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,Nf3,Bg4,c3,Nf6,Nbd2,e6,Qc2,Bxf3,Nxf3,Be7,O-O,O-O,Re1,Rc8,Qb1,h6,Bf4,Nh5,Bc1,Nf6,Bf4,a6,Qc1,Bd6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/ix26X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iX2oY', 'Rapid', 'ZEBRA-347', 1600, 'zaididichchou99', 1854, 'e4,e5,c4,Nf6,Nc3,Bc5,Be2,Nc6,d3,d6,Nf3,Bg4,O-O,O-O,h3,Be6,Nd5,Nd7,Bg5,Nf6,Qc1,h6,Nxf6+,Kh8,Nh7,hxg5,Nhxg5,Nd4,Bd1,Bb4,Nh4,c6,Nxe6,Qxh4,Nxf8,Rxf8,Kh2,Re8,g3,Qf6,f4,exf4,Rxf4,Qe5,Bg4,Ne2,Qe3,Nxf4,gxf4', 'Qxb2+,Qe2,Qxa1', 'https://lichess.org/training/iX2oY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IX4XF', 'Blitz', 'Asso63', 1810, 'egon_hubert', 1851, 'd4,d5,Nf3,Nf6,Nbd2,Bf5,e3,e6,Ne5,c5,g4,Bg6,h4,h6,Nxg6,fxg6,c3,Nc6,Qc2,Ne7,Bd3,Kf7,Nf3,c4,Ne5+,Kg8,Be2,Qe8,h5,g5,Bd2,Nc6,Ng6,Ne4,Nxh8,Kxh8,O-O,Bd6,Bf3,Nf6,Qg6,Qd7,Bd1,Rf8,Bc2,Ne7,Ba4,Qc7,Qc2,Ne4,Qd1,a6,Bc2', 'Bh2+,Kh1,Nxf2+,Rxf2,Rxf2', 'https://lichess.org/training/IX4XF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IX5HS', 'Classical', 'Aks7', 1689, 'CARL09458335831', 1688, 'e4,c5,Nf3,Nc6,Nc3,e6,d3,g6,Bf4,Bg7,Qd2,e5,Bg5,f6,Be3,b6,h4,Nge7,Be2,Nd4,O-O-O,Bb7,Bh6,O-O,g4,d5,Bxg7,Kxg7,g5,dxe4,Nxe4,f5,Nxd4,exd4,Nf6,Bxh1,Rxh1,Rxf6,gxf6+,Kxf6,Qg5+,Kg7,h5,Qe8,Bf3,Rc8,Re1,Rc7,Re6,Qf7,Bd5,Nxd5', 'h6+,Kg8,Qd8+', 'https://lichess.org/training/IX5HS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IX8Ug', 'Blitz', 'Polina_Otchik', 1725, 'grifoman1', 1911, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,a6,Nf3,Nf6,Ne5,h6,Bf4,g5,Bg3,Nc6,Nxf7,Qe6+,Ne5,Bg7,Bc4,Qf5,Nd5,Nxd5,Qh5+,Kf8,Bxd5,Nxe5,Bxe5', 'Bxe5,dxe5,Qxe5+,Qe2,Qxd5', 'https://lichess.org/training/IX8Ug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixAAN', 'Rapid', 'ebra999', 1809, 'vacwep', 1923, 'd4,Nf6,c4,b5,e3,bxc4,Bxc4,d5,Bd3,Nbd7,Nc3,e5,dxe5,Nxe5,Bb5+,c6,Be2,Bb4,Qc2,Ne4,a3,Bxc3+,bxc3,Bf5,Nf3,Nxf3+,Bxf3,Ng3,e4,Nxe4,Qa4,Qb6,Be3,Qb7,O-O,O-O,c4,Rfd8,cxd5,cxd5,Qd4,Rab8,Bf4,Rbc8,Rab1,Qa6,Rb3,Rc4,Qb2,g5,Bxe4,Rxe4,Bxg5,Rde8,Rb8', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/ixAAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IXap0', 'Blitz', 'Ador221955', 1620, 'stefan-cupcev10', 1631, 'd4,f6,Nc3,c6,Nf3,d5,e4,e6,e5,f5,h4,h6,h5,Be7,Be3,b5,b4,Bxb4,Bd2,Be7,a4,b4,Ne2,a5,Nf4,Kf7,Ng6,Rh7,Bd3,Nd7,Nf4,Ba6,Bxa6,Rxa6,Qe2,Qb6,Be3,Ra8,Nd2,Rb8,Qf3,Qd8,Qg3,Bg5,Nf3,Bxf4,Bxf4,Nf8,Nh4,Qb6,Be3,b3,cxb3,Qxb3,Ng6,Qc3+,Bd2,Qxa1+,Ke2,Qxh1,Nxf8,Kxf8,Qg6,Rh8,Qxe6,Qxh5+,f3,Qe8,Qd6+,Ne7,e6,g5,Qe5,Rg8', 'Qf6+,Qf7,Qxf7#', 'https://lichess.org/training/IXap0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixBim', 'Blitz', 'highbee', 1547, 'Nikhilts', 1528, 'e4,e5,f4,exf4,Nf3,g5,d4,g4,Ne5,Qh4+,Kd2,g3,Qf3,d6,Nd3,Bh6,Nc3,Bg4,hxg3,Qxh1,Qxg4,Qxf1', 'Qc8+,Ke7,Nd5#', 'https://lichess.org/training/ixBim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixbuo', 'Blitz', 'IM lovlas', 2538, 'FM GepardKuba', 2447, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Nf3,c5,dxc5,Nc6,a3,Bxc5,b4,Nd4,Nxd4,Bxd4,Bg5,h6,Bh4,b6,Rd1,Be5,e3,d5,f4,Bxc3+,Qxc3,Ne4,Bxd8,Nxc3,Rc1,Na2,Ra1,Nxb4,axb4,Rxd8,c5,Bb7,Be2,Rdc8,cxb6,axb6,Kd2,Kf8,Rhb1,Ke7,g3,Kd6,Bd3,Rxa1,Rxa1,Ra8,Rxa8,Bxa8,Kc3,Bc6,Be2,f6,Bd3,e5,Be2,Bd7,Bd3,Bg4,Bf1,Bf3,Bd3,Be4,Bxe4,dxe4,f5,Kd5,Kb3,b5,Kc3,Kd6,g4,Ke7,h4,h5,gxh5,Kf7,Kd2,Kg8,Ke2', 'Kh7,Kd1,Kh6', 'https://lichess.org/training/ixbuo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IXCms', 'Rapid', 'Desbundar', 1765, 'CrapCrusher', 1847, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,c5,Be3,Nc6,dxc5,Ndxe5,Nd4,Bxc5,Nxc6,bxc6,Bxc5,Nd7,Bd6,a6,Qg4,Qf6,O-O-O,Ne5,Bxe5,Qxe5,Qd4,Qxd4,Rxd4,O-O,h4,c5,Rf4,Bb7,h5,e5,Rf5,f6,h6,g6,Rf3,d4,Na4,Bxf3,gxf3,Rfc8,Bc4+,Kf8,c3,Rcb8,Nxc5,Ke7,Ne4,a5,a4,Rb6,cxd4,exd4,b3,f5,Ng3,Rd6,Kd2,Rad8,Re1+,Kf6,Kd3,R8d7,f4,Re7,Rxe7,Kxe7,Ne2,Kf6,Nxd4,g5,Ke3', 'gxf4+,Kd3,Ke5,Kc3,Rxd4', 'https://lichess.org/training/IXCms');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iXe6f', 'Rapid', 'sergeybasov1957', 1639, 'amitpbr', 1970, 'e4,Nf6,Nc3,e5,Nf3,d6,Be2,Nc6,O-O,Bg4,h3,Bxf3,Bxf3,Nd4,d3,Be7,Be3,c5,Bxd4,cxd4,Nd5,Nxd5,exd5,O-O,c4,f5,b3,Bg5,b4,Qe7,c5,dxc5,bxc5,Qxc5,d6,Qxd6,Bxb7,Rab8,Bf3,Qe7,Rb1,e4,dxe4,fxe4,Bg4,d3,Rxb8,Rxb8,Qa4,Qb4,Qxa7,d2,a4,h6,a5,Rf8,a6,e3,Qd7,exf2+,Kh1,Be3', 'Qe6+,Kh8,Qxe3', 'https://lichess.org/training/iXe6f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iXen3', 'Rapid', 'molten9000', 1791, 'DerPasserBy', 1748, 'e4,g6,d4,Bg7,Nc3,d6,Be3,Nf6,f3,O-O,Qd2,c5,O-O-O,cxd4,Bxd4,Nc6,Be3,Nd7,Bh6,Qa5,Bxg7,Kxg7,Kb1,b5,Bxb5,Ba6,Bxa6,Qxa6,Nd5,Qb5,Nc7,Qb6,Nxa8,Rxa8,Qc3+,f6,h4,Rb8,h5,Nc5,hxg6,hxg6,b3,Qa6,Nh3,Nb4,Qb2,Qb5,Nf2,a5,Nd3,Nbxd3,cxd3,a4,d4,Nd3,Rxd3,Qxd3+,Qc2,Qb5,Kb2,Qb4,Rd1,a3+,Kb1,g5,d5,Kg6,Qd2,Qc5,Qd4,Qc8,Rc1,Qd8,Rc6,Qa5,Qc3,Qa7,Kc2,Qf2+,Qd2,Qg3,Kc3,Qe5+,Kc4,e6,dxe6', 'Qb5+,Kd4,Qxc6', 'https://lichess.org/training/iXen3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixFeh', 'Rapid', 'Raminmokhtarynia1', 1971, 'eccentricism', 2006, 'd4,d5,Nf3,Nf6,e3,e6,Be2,c5,O-O,Nc6,c3,Bd6,a3,cxd4,exd4,O-O,Bd3,Ne4,Bxe4,dxe4,Ng5,f5,Qh5,h6,Nh3,Qf6,Nd2,e5,dxe5,Qxe5,g3,Be6,Nf4,Bf7,Qe2,Qf6,Nc4,Bc7,Rb1,Ne5,Nxe5,Bxe5,Bd2,Rac8,Be3,Bc4,Qe1,Bxf1,Qxf1,Bxf4,Bxf4,Rfd8,Be3,a6,h4,Rd3,Bd4,Qe6,Qe2,Rf8,Re1,Qd5,g4,fxg4,Qxg4,Qf7,Qxe4,Rh3,Kg2,Rxh4,Qxh4,Qf3+,Kg1,Rf4,Qd8+,Kh7,Qd7', 'Rg4+,Qxg4,Qxg4+', 'https://lichess.org/training/ixFeh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iXg7o', 'Rapid', 'RolandYoingco', 1801, 'cipsoron', 1822, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,Nxd5,Qxd5,Nf3,Nc6,Qc2,Bd7,e4,Qa5+,Bd2,Bb4,Bd3,O-O-O,O-O,Bxd2,Nxd2,Nxd4,Qc4,Bb5,Qc5,b6,Nb3,Nxb3,axb3,Qxa1,Qxb5,Qa5,Qc6,Qc5', 'Ba6+,Kb8,Qb7#', 'https://lichess.org/training/iXg7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IXG9o', 'Classical', 'donjarito', 1745, 'vintkar', 1707, 'Nf3,b6,d4,Bb7,Nc3,Nf6,Bf4,Nd5,Nxd5,Bxd5,e3,e6,Be2,Qe7,Kf1,Qb4,Qc1,Bd6,c3,Qa5,b4,Qa4,Bxd6,cxd6,a3,Qc6,c4,Be4,b5,Qb7,Qd1,d5,Bd3,dxc4,Bxe4,Qxe4,Ne5,d5,Qf3,Qxf3,Nxf3,O-O,Ne5,a6,bxa6,Rxa6,Ke2,b5,Rhb1,Rb6,a4,b4,a5,Rb5', 'a6,Nxa6,Rxa6', 'https://lichess.org/training/IXG9o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixgV9', 'Classical', 'WillyMeteor', 1634, 'Booratinok', 1618, 'd4,d5,c4,dxc4,Nf3,a6,e3,b5,a4,c6,b3,cxb3,axb5,cxb5,Bxb5+,Bd7,Nc3,e6,Qxb3,a5,Na4', 'Bb4+,Bd2,Bxb5,Bxb4,axb4', 'https://lichess.org/training/ixgV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixHe4', 'Blitz', 'jm_maldague', 1719, 'quackslikeduck', 1631, 'd4,c5,d5,Nf6,c4,b5,b3,bxc4,bxc4,d6,Nf3,g6,Bb2,Bg7,Nbd2,O-O,e4,Bg4,Be2,Bxf3,Bxf3,Nbd7,O-O,Rb8,Rb1,Qc7,Qc2,Ne5,Be2,Rb7,Nf3,Nxf3+,Bxf3,Rfb8,Rfe1,Nd7,Bxg7,Kxg7,h4,Ne5,Rb3,Qa5,Reb1,Nxf3+,gxf3,Rxb3,axb3,Rb4,Rb2,Qa1+,Kg2,a5,Qc3+,Kg8,e5,a4,exd6,exd6,Qf6,axb3,Qd8+,Kg7,Re2,b2,Re8,Rb8', 'Rg8+,Kh6,Qg5#', 'https://lichess.org/training/ixHe4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixIAI', 'Rapid', 'Rohit_Behani', 1697, 'tanoCureC', 1823, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,d5,exd5,Nf6,Bc4,Be7,Nf3,O-O,O-O,c6,Re1,cxd5,Nxd5,Nxd5,Bxd5,Nd7,Qb3,Nb6,Be4,Be6,Qe3,Qc7,Ng5,h6,Nxe6,fxe6,Qh3,Qd6,Bxb7,Qd4,Qxe6+,Kh8,Bxa8', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/ixIAI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IxIdk', 'Classical', 'usyu001', 1851, 'Akl2009', 1940, 'e4,c5,Nc3,e6,Nf3,Nc6,Bb5,Qc7,d4,cxd4,Nxd4,Nf6,O-O,Bb4,Bxc6,bxc6,e5,Qxe5,Re1,Qc7,Bg5,Nd5,Nxd5,cxd5,c3,Be7,Bxe7,Kxe7,Nf5+,Kf8,Nd4,a6,f4,Bb7,f5,e5,Nf3,d6,Ng5,Rb8,Qh5,f6', 'Ne6+,Ke7,Nxc7', 'https://lichess.org/training/IxIdk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IXkYt', 'Rapid', 'Terrence61', 1972, 'Uguzzone', 1908, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,Bg5,Nbd7,cxd5,exd5,e3,O-O,Bd3,c6,Qc2,g6,h4,Be7,Bh6,Re8,h5,Ne4,hxg6,fxg6,Nxe4,dxe4,Bxe4,Nf6,Bxg6,Bb4+,Ke2,Ne4,Bxe4,Rxe4,Qxe4,b6,Ng5,Ba6+,Kf3,Qf6+,Kg3,Bd6+,f4,Qg6,Qxc6,Re8,Qd5+,Kh8,Kf2,Qc2+,Kg3,Rxe3+,Nf3,Qg6+,Kf2', 'Re2+,Kg1,Qxg2#', 'https://lichess.org/training/IXkYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixL5q', 'Blitz', 'rogergil', 2099, 'zainindra', 2180, 'e4,e5,Nc3,Nc6,f4,f5,fxe5,f4,Nf3,Qe7,d4,d6,exd6,cxd6,Bxf4,Nf6,Bd3,Bg4,Be3,O-O-O,Qd2,Nb4,O-O,h6,a3,Nc6,d5,Bxf3,dxc6,Bg4,cxb7+,Qxb7,h3,Bd7,Qe2,Kb8,Ba6,Qc7,Nd5,Nxd5,exd5,Be7,Rf7,Bf6,Bb5,Rhf8,Rxf8,Rxf8,Bxd7,Qxd7,c3,Be5,Qc4,Qb7,Rf1,Rxf1+,Qxf1,Qxb2,Qf8+,Kc7,Qe7+,Kc8,Qxa7,Qxc3,Bb6', 'Qe1#', 'https://lichess.org/training/ixL5q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixLlA', 'Rapid', 'AMATAR2019', 1575, 'bogdanodecca', 1594, 'e4,e6,e5,f6,d4,fxe5,dxe5,d6,Nf3,Nc6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,Re1,dxe5,Nxe5,Bd6,Nxc6,bxc6,Rxe6+,Ne7,Bg5', 'Bxh2+,Kxh2,Qxd1,Rxe7+,Kf8', 'https://lichess.org/training/ixLlA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IXlWT', 'Classical', 'Leasy', 1722, 'catmyledy', 1739, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb3,Be7,Bd3,Bg5,Nc3,Bxc1,Rxc1,a6,O-O,Nf6,f4,O-O,h3,h6,fxe5,dxe5,Nd5,Nh7,c4,Qg5,Rf3,Nd7,Nd2,Nc5,Nf1,Nxd3,Rxd3,f5,Rg3,Qh4,Qe1,f4', 'Rxg7+,Kxg7,Qxh4', 'https://lichess.org/training/IXlWT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iXM0F', 'Rapid', 'Valanjoo', 1891, 'LaurT', 1997, 'd4,d5,c4,dxc4,Nc3,e5,e3,exd4,exd4,c5,Qe2+,Qe7,Qxe7+,Bxe7,dxc5,Nf6,Bg5,O-O,O-O-O,Bxc5,Bxf6,gxf6,Bxc4,Bf5', 'Rd5,Be6,Rxc5', 'https://lichess.org/training/iXM0F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IXn00', 'Rapid', 'sas1111', 1920, 'tuzikI', 1817, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bd3,O-O,O-O,h6,h3,Bd7,Be3,Nc6,Nxc6,Bxc6,f4,a6,a4,b6,f5,Nd7,Qg4,Ne5,Qh5,Bg5,Bxg5,Qxg5,Qxg5,hxg5,f6,Bd7,Nd5,Ra7,b3,Be6,Ne7+,Kh7,fxg7,Kxg7,Nf5+,Kg6,Rf2,f6,Raf1,Rf7,Nd4,Bd7,g4,Ra8,Kg2,a5,Bb5,Bxb5,Nxb5,Re8,Nc3,Nd7,Re1,Nc5,Rfe2,Ne6,Kg3,Rh7,Rf2,Nf4,Rh1,Re5,Ne2,Rxe4,Nxf4+,gxf4+,Rxf4,Re2,c4,Rhe7,Rhf1,R7e6,h4,Rb2,R1f3,Rb1,h5+,Kg7,g5,Rg1+,Kf2,Rxg5,h6+,Kg6,Rh4,Kh7,Rfh3,Rg6,Kf3,f5,Kf4,Rgf6,Rh5,Re4+,Kf3,Rg4,Rh2,Rfg6,Rxf5,Rg3+,Ke4,Rxh6,Rxh6+,Kxh6,Rb5,Rg5', 'Rxg5,Kxg5,Kd5', 'https://lichess.org/training/IXn00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IXNI4', 'Blitz', 'Nyghtguard', 2088, 'Izuku_Midoriya3', 2289, 'e4,g6,Nf3,Bg7,d4,d6,Nc3,a6,Be3,b6,Bd3,Bb7,O-O,Nd7,e5,dxe5,dxe5,Bxf3,Qxf3,Nxe5,Qg3,Nxd3,cxd3,Nf6,Rad1,Nh5,Qf3,O-O,Ne4,e5,g4,f5,gxf5,Rxf5,Qg4,Nf4,Bxf4,exf4,Kh1,f3,Ng3,Rf8,Rc1,c5,Qe6+,Kh8,Rfe1,Qxd3,Qxb6,Rab8,Qxc5,Rxb2,Rcd1,Qc2,Qxc2,Rxc2,a4,Re2,Nxe2,fxe2,Rxe2,h6,Rd6,Rf4,Rxa6,g5,Ra8+,Kh7,a5,Bd4,Kg2,Rg4+,Kh3,Rg1,Rae8,Kg6,f4', 'g4+,Kh4,Bf6#', 'https://lichess.org/training/IXNI4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iXNV2', 'Rapid', 'iggichess', 2168, 'andredechen3', 2060, 'e4,e6,e5,d5,Nf3,c5,g3,Nc6,Bg2,Qc7,Qe2,Nge7,O-O,Ng6,Re1,Be7,c3,c4,h4,O-O,h5,Nh8,d4,cxd3,Qxd3,f6,exf6,Bxf6,Bf4,Qb6,Re2,Nf7,Na3,Bd7,Rae1,h6,Nb5,Rac8,Nbd4,Nxd4,cxd4,Bb5,Qe3,Bxe2,Rxe2,Rfe8,Bh3,Kh8,Kg2,Rc6,g4,Qd8,Rd2,Ng5,Ne5,Bxe5,Bxe5,Ne4', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/iXNV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iXOGW', 'Rapid', 'Alperen_Kirkpinar800', 1603, 'k5kenduz5k', 1635, 'g3,e5,c4,Nf6,Bh3,d5,Bg2,d4,d3,Bf5,b3,e4,Bb2,e3,fxe3,dxe3,Bxb7,Nbd7,Bxa8,Qxa8,Nf3,Ng4,O-O,Nf2,Rxf2,exf2+,Kxf2,Bc5+,d4,Be7,Nbd2,O-O,Qe1,Nf6,d5,Ng4+,Kg2,Ne3+,Kg1,Nc2,Qb1,Nxa1,e4,Bg6,Bxa1,Bc5+,Bd4,Bxd4+,Nxd4,Re8,Qe1,Qd8,Nc6,Qd6,e5,Qc5+,Qf2,Qxf2+,Kxf2,a6,Kf3,Bf5,Ne4,h5,Kf4,Bg4,Nf2,Be2,h3,g6,g4,hxg4,hxg4,Kg7,g5,Bh5,Ng4,Ra8,b4,Rb8,a3,Ra8,c5,Bxg4,Kxg4,Rh8,a4,Rh1,a5,Rd1,d6,cxd6,exd6,f5+,gxf6+,Kxf6,Ne7,Rb1,Nxg6', 'Rg1+,Kf3,Rxg6', 'https://lichess.org/training/iXOGW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iXoUz', 'Blitz', 'Old-Veteran', 2673, 'GM crackcubano', 2662, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,d6,Nf3,e6,Nc3,Nxc3,bxc3,Qc7,Bd2,Nd7,Bb5,dxe5,Nxe5,Bd6,f4,O-O,O-O,Nf6,Bd3,b6,Qf3,Bb7,Qg3,Be4,Rae1,Bxd3,Qxd3,Rac8,Rf3,g6,g4,Nd5,Qe2,Bxe5,fxe5,Qc4,Qf2,Qxa2,Re2,Qa1+,Re1,Qb2,Rf1,Rc7', 'c4,Nb4,d5', 'https://lichess.org/training/iXoUz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IXQkl', 'Blitz', 'pepeluis69', 1818, 'popovv26', 1816, 'd4,Nf6,c4,e6,Nc3,b6,Bg5,Be7,e4,h6,Bh4,Bb7,f3,O-O,Bd3,d6,Nge2,Nbd7,O-O,c6,f4,Qc7,e5,dxe5,fxe5,Nxe5,dxe5,Qxe5,Bxf6,Bxf6,Qc2,Qe3+,Kh1,c5,Ne4,Be7,Rae1,Rad8,Nf4,Qd4,Rd1,f5,Nxe6,fxe4,Nxd4,exd3,Rxf8+,Rxf8,Qxd3,cxd4,Qxd4,Bc5,Qc3,Rf2,Rg1', 'Bxg2+,Rxg2,Rf1+,Rg1,Rxg1#', 'https://lichess.org/training/IXQkl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IxsrS', 'Blitz', 'Nimrod66', 2364, 'GM volodja49', 2476, 'd4,d5,Nc3,Nf6,e4,Nxe4,Nxe4,dxe4,Bc4,Bf5,c3,e6,f3,Be7,Qe2,exf3,Nxf3,O-O,O-O,c5,Be3,Qc7,Ne5,cxd4,Bxd4,Nc6,Nxc6,Qxc6,Rxf5', 'exf5,Qxe7,Qxc4', 'https://lichess.org/training/IxsrS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iXUg2', 'Blitz', 'iLikeToSleep', 1684, 'bn31dz', 1672, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,Re1,Nge7,Ng5,O-O,Bxf7+,Rxf7,Nxf7,Kxf7,Qf3+,Kg8,Nc3,Nd4,Qd1,Ng6,d3,Be6,a3,a6,b4,Ba7,Bb2,Qe7,Nd5,Bxd5,exd5,Nf5,d4,Rf8,dxe5,Nxe5,Bxe5,dxe5,c4,Qg5,Rxe5,Qf4,Qe2,Bxf2+,Kh1,Bd4,Re8,Bxa1', 'Qe6+,Kh8,Rxf8#', 'https://lichess.org/training/iXUg2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iXuPN', 'Rapid', 'ikaro_cf', 1698, 'obelfix', 1749, 'b4,d5,h4,h5,Bb2,Bf5,e3,a6,Be2,e6,Nf3,f6,b5,axb5,Bxb5+,c6,Be2,Na6,Nd4,Bg6,Nxe6,Qe7,Bxa6,Rxa6,Nxf8,Qxf8,g4,Qb4,Bc3,Qxg4,Qxg4,hxg4,Rg1,Rxh4,f3,Nh6,fxg4,Rxg4,Rxg4,Nxg4,Ke2,Bxc2,d3,Ba4,Nd2,c5,Rg1,f5,Bxg7,Bb5,Ra1,Kf7,Bb2,Ke6,Nb3,b6,Kd2,Ba4,Nc1,b5,Ne2,b4,a3,b3,Rh1,Be8,Nf4+,Kd6,Rh8,Bd7,Rg8,c4', 'Rg6+,Kc7,Rxa6', 'https://lichess.org/training/iXuPN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixV1D', 'Rapid', 'Positional_game', 2229, 'marbo', 2218, 'c4,Nc6,b3,e5,Bb2,Nf6,g3,d5,cxd5,Nxd5,Bg2,Be6,Nc3,Bb4,Nf3,O-O,O-O,Re8,a3,Ba5,b4,Bb6,d3,Nxc3,Bxc3,f6,b5,Ne7,d4,exd4,Bxd4,Bxd4,Nxd4,Bc8,Qb3+,Kh8,Rfd1,Qd6,Rac1,Qe5,f4,Qh5,Rxc7,Bg4,Bf3,Bxf3,Qxf3,Qh3,Qxb7,Nf5,Nxf5,Qxf5,Rdd7,Rab8,Re7,Red8,Qe4,Qh3,Rc1,Qh5,a4,h6,Rxa7,Re8,Qf3,Qh3,Rac7,Rbd8,b6,Rd2,Re1,Qe6,b7', 'Qb6+,Kf1,Qxc7', 'https://lichess.org/training/ixV1D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iXxLr', 'Classical', 's-gorpa', 1770, 'usyu001', 1851, 'b3,e5,Bb2,Nc6,e3,Nf6,Bb5,d6,h3,Be7,Nf3,O-O,O-O,e4,Nd4,Nxd4,Bxd4,c6,Be2,d5,c4,c5,Be5,d4,d3,Bd6,Bxd6,Qxd6,Nd2,exd3,Bf3,dxe3,fxe3,Rb8,Ne4,Nxe4,Bxe4,Bxh3,gxh3,Qg3+,Bg2,Qxe3+,Kh1,Rbd8,Rf3,Qe2,Qxe2', 'dxe2,Re3,Rd1+', 'https://lichess.org/training/iXxLr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixXuy', 'Blitz', 'kikobedan', 2398, 'FM nilwil', 2539, 'd4,Nf6,Bg5,c5,Bxf6,gxf6,d5,Qb6,Qc1,f5,e3,Bg7,c3,d6,Nd2,Nd7,Nc4,Qc7,a4,a6,Ne2,Rb8,a5,b5,axb6,Nxb6,Nf4,Bh6,Qd2,Bb7,Nxb6,Qxb6,Bc4,a5,O-O,Ba6,Bxa6,Qxa6,Ra4,Qb5,Rfa1,Qxb2,Qd3,Bxf4,exf4,O-O,Rxa5,Rb3,g3,Rxc3,Qxf5,Rc1+,Rxc1,Qxc1+,Kg2,Qc3', 'Qg5+,Qg7,Qxe7', 'https://lichess.org/training/ixXuy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ixyqc', 'Rapid', 'wienna', 2032, 'Xhemo', 2060, 'd4,e6,c4,d6,Nc3,c6,e4,h6,Nf3,g6,Bd3,Bg7,Be3,Ne7,O-O,d5,cxd5,cxd5,e5,a6,Rc1,O-O,Qd2,Kh7,h4,Nf5,h5,gxh5,Bxf5+,exf5,Qd3,Be6,g3,Rg8,Kh2,Nc6,a3,Na5,Rh1,Nc4,Rc2,Nxe3,Qxe3,Bf8,Kg2,Be7,Rxh5,Bg5,Qd3,Rg6,Rc1,Kg7,Rch1,f4,Nh4,Bxh4,R1xh4,fxg3,fxg3,Qd7,Ne2,Bg4,Nf4,Bxh5,Nxh5+,Kh8,Nf4,Rag8,Nxg6+,Rxg6,Qe3,Kg7,Qf3,Qe6,Rf4,Kf8,Qb3,Qd7,Qf3,Ke8,Qh5,Kd8,Qe2,Kc8,Qf2,Rg7,Qd2,Kb8,Rh4,Rg4,Rxh6,Qb5,Kh3,Re4,Rh4,Qf1+,Qg2,Qf5+,Kh2,Re3,Rf4,Qg5,Qf2,Qh5+,Kg1', 'Qd1+,Kg2,Re2', 'https://lichess.org/training/Ixyqc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ixz3K', 'Rapid', 'FeCampos', 2111, 'Reproof_02', 2051, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,e5,Qd3,Nf6,Re1,Be7,c4,O-O,Nc3,h6,b3,Qb6,Bb2,Rfd8,Rad1,a6,Nh4,g6,Nf3,Kg7,Qc2,Nh5,g3,Nf6,a4,Qc7,Ba3,Qc8,Nxe5,Qe6,Nxc6,bxc6,Bb2,Kg8,Qd2,Nd7,Qxh6,Bf8,Qd2,Ne5,Kg2,Rab8,f4,Ng4,h3,Nh6,Qc2,f5,exf5,Qxf5,Qxf5,Nxf5,g4,Rxb3,Rd2,Ng7,Ne4,Rdb8,Bxg7,Bxg7,Nxd6', 'Bc3,Red1,Bxd2', 'https://lichess.org/training/ixz3K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ixzzm', 'Rapid', 'Meester_Kevin', 1678, 'Mr_Davon', 1707, 'e4,e5,f4,exf4,Nf3,d5,exd5,Bg4,d4,Qxd5,Be2,Nc6,c4,Qa5+,Bd2,Qb6,c5,Qxb2,Nc3,a6,Na4,Bxf3,Nxb2,Bxe2,Qxe2+,Kd7,Bxf4,Re8,Be3,Nxd4,Qd3', 'Rxe3+,Qxe3,Nc2+,Kd2,Nxe3', 'https://lichess.org/training/Ixzzm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IY1ag', 'Rapid', 'samjrd', 1887, 'kaiprad', 1891, 'd4,d5,c4,Nf6,Nc3,Nc6,Nf3,Bg4,cxd5,Nxd5,e3,e6,Bb5,Qd6,a3,a6,Ne4,Qd7,Nc5,Bxc5,Bxc6,Qxc6,dxc5,Qxc5', 'Qa4+,Qb5,Qxg4', 'https://lichess.org/training/IY1ag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IY1Kd', 'Rapid', 'Vasilroztripenko1', 2028, 'hermawan71', 2377, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,h3,Be7,Nf3,Bf5,Bd3,Bg6,O-O,O-O,Bxg6,hxg6,Bf4,Bd6,Bxd6,Qxd6,c3,Nd7,Qb3,Nb6,a4,Qc7,a5,Nd5,Rfe1,Rfe8,a6,Rxe1+,Rxe1,bxa6,Qc4,Qb6,b4,Qb5,Qc5,Qxc5,bxc5,Nxc3,Ra1,Rd8,Rxa6,Ne2+,Kf1,Nxd4,Nxd4,Rxd4,Rxc6,Rc4,Rc8+,Kh7,Ke2,g5,Kd3,Rc1,Kd2,Rc4,Kd3,Rc1,Kd2,Ra1,c6,Ra5,Kd3,Rc5,Kd4,Rc1,c7,a5,Kd5,a4,Kd6,a3', 'Ra8,a2,Rxa2', 'https://lichess.org/training/IY1Kd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IY7M5', 'Blitz', 'Tony_Halik', 1634, 'pammon', 1629, 'e4,c5,Nf3,g6,Bc4,Bg7,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,O-O,Nf6,Nc3,d6,b3,Nxe4,Nxe4,Bxa1,Bh6,Be5,Bxf7+,Kxf7,Qf3+,Bf6,Ng5+,Ke8,Ne4,Bf5,Nxf6+,exf6,Qxc6+,Bd7,Qxd6,Rc8', 'Re1+,Kf7,Qd5+,Be6,Qxe6#', 'https://lichess.org/training/IY7M5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iY7ZV', 'Rapid', 'Wilshyy', 1790, 'Jonigamer', 1755, 'Nf3,c5,e4,e6,Be2,d5,exd5,exd5,d4,cxd4,O-O,Nc6,Nxd4,Nf6,Bg5,h6,Bxf6,Qxf6,Nb5,Qd8,Qxd5,Bd7,Bh5,g6,Bxg6,fxg6,Re1+,Be7', 'Nd6+,Kf8,Qf7#', 'https://lichess.org/training/iY7ZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iY801', 'Rapid', 'HRHIII', 1786, 'melifettaji', 1810, 'd4,e5,dxe5,Bc5,f4,d6,Nf3,Ne7,exd6,Nbc6,dxe7', 'Bf2+,Kxf2,Qxd1', 'https://lichess.org/training/iY801');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iy83X', 'Rapid', 'jkat36', 1797, 'Danila_2012', 1804, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,d6,c3,Bg4,Be3,Na5,Qa4+,c6,Be2,b5,Qc2,Bxf3,Bxf3,Nc4,O-O,Nf6,Nd2,a5,Nxc4,bxc4,Rad1,Be7,Qa4,O-O,Qxc6,exd4,Bxd4,Rb8,Bxf6,Bxf6,Rxd6,Qe7,Rfd1,Rxb2,Qxc4,Qa7,R1d2,Rb1+,Rd1,Rb2,R6d2,Rbb8,Bh5,Rbc8,Rd7', 'Qxd7,Rxd7,Rxc4', 'https://lichess.org/training/iy83X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IY943', 'Blitz', 'pavelsokrovyshchuk', 1756, 'B2pon24x7', 1638, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,d6,e4,Nbd7,Bd3,e5,Nb3,Qe7,O-O,O-O,Re1,a5,a4,c5,dxc5,dxc5,Qd2,b6,Nc1,Bb7,Qc2,Rfd8,Ne2,Nf8,Nc3,Ng6,Nd5,Bxd5,exd5,Nd7,Nxe5,Ngxe5,f4,Qh4,fxe5,Re8,Bf5,Nxe5,b3', 'Nf3+,gxf3,Rxe1+,Rxe1,Qxe1+', 'https://lichess.org/training/IY943');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iyakz', 'Rapid', 'Woltmeyster', 2005, 'freegamexx', 2141, 'd4,Nf6,c4,e5,d5,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Nc3,d6,e4,Nbd7,Nge2,Nc5,Ng3,a5,Be2,h5,Bxh5,Nxh5,Nxh5,f5,f4,Qh4+,Ng3,exf4,O-O-O,fxg3,hxg3,Qxg3,Rh3,Qg6,Rdh1,Rf6,Rh8+,Kf7,Rd8,fxe4,Rhh8,Rf1+,Nd1,Nd7,Qe2,Qf6,Qxe4,Qe5,Qxe5,dxe5,Rxc8,Ra7,Rxc7,Ke7,c5,e4,d6+,Ke6,Re8+,Kd5,Rxd7,Kxc5,Rxe4,Kc6,Rd8,Kd5,Re7,Ra6,d7,Rc6+,Kd2,Kd6,Rxg7,Rc7,g4,Rg1,g5,Rg2+,Kd3,Rg3+,Ke4,Rg4+,Kf5,Rg1,Ne3,Rc5+,Kg6', 'Rcxg5+,Kf6,Rxg7,Nf5+,Kc7', 'https://lichess.org/training/iyakz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iYaLm', 'Blitz', 'StarPlayer_2003', 2292, 'DoctorPandino', 1910, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bf1,Nc6,d3,e5,Nbd2,g6,g3,Bg7,Bg2,h6,O-O,Nf6,c3,O-O,Nc4,Nh5,Nxd6,Qc7,Nc4,b5,Ne3,f5,Nd5,Qd6,Nh4,f4,Bf3,fxg3,fxg3,Bh3,Rf2,g5,Nf5,Bxf5,exf5,Nf6,Nxf6+,Rxf6,Be3,Rd8,Be4,Ne7,Qg4,Nd5,Bd2,c4,dxc4,bxc4,h4,gxh4,gxh4,Ne7,Be3,a5,Raf1,Kh7,h5,Rg8,Rg2,Bh8,Qh4,Rg7,Rxg7+,Bxg7,Rf2,a4,Rg2,a3,Rg6,axb2,Bxh6,Qd1+,Kf2,Bxh6,Qxf6,Qd2+,Kg3,Bf4+,Kf3,Qe3+,Kg2,Qd2+,Kf3,Qe3+,Kg2,Qe2+,Kh3', 'Qh2+,Kg4,Qg3#', 'https://lichess.org/training/iYaLm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iYaqj', 'Rapid', 'abdullah_ali', 2048, 'deiaa', 1790, 'e4,c5,Nf3,Nc6,Bc4,g6,O-O,Bg7,c3,Nf6,e5,Ng4,d4,cxd4,cxd4,d5,exd6,Qxd6,h3,Nxd4,hxg4,Bxg4,Bxf7+,Kf8,Nbd2,Nxf3+,gxf3,Bh3,Bc4,Bd4,Ne4,Bxf2+,Kh1,Qe5,Bh6+,Ke8,Nxf2,Qh5,Qa4+', 'Bd7+,Kg2,Bxa4', 'https://lichess.org/training/iYaqj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iYCSr', 'Blitz', 'hulda', 2044, 'areks', 1957, 'e4,d6,d4,c6,Nc3,g6,f4,Bg7,Nf3,Nf6,Be3,O-O,Qd2,Nbd7,O-O-O,e5,h3,Qe7,fxe5,dxe5,g4,a5,Bg2,b5,dxe5,Nxe5,Nxe5,Qxe5,Bf4,Qe6,e5,Nd5,Nxd5,cxd5,Bxd5,Qa6,Bxa8,Qxa8,Rhg1,b4,h4,Be6,Kb1,Qb7,Bh6,a4,Bxg7,Kxg7,h5,b3,a3,bxc2+,Qxc2,Rb8,Rd4,Qb6,Rgd1,Bb3,h6+,Kxh6,Qh2+,Kg7,Rh1,Qxd4,Qxh7+,Kf8,Qh8+,Ke7,Qxb8', 'Qe4+,Ka1,Qxh1#', 'https://lichess.org/training/iYCSr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IYdBW', 'Blitz', 'SomewhereNow', 1656, 'umutsimsekci', 1619, 'e4,c5,d3,Nc6,Qe2,d6,c3,e5,g4,Nf6,g5,Nd7,h4,f6,Qh5+,Ke7,Qe2,Ke8,Qh5+,g6,Qe2,fxg5,h5,gxh5,Qxh5+,Ke7,Bxg5+,Nf6,Qh4,Bg7,Nf3,Qf8,Nbd2,Be6,O-O-O,Kd7,Bh3,Bxh3,Qxh3+,Kc7,Nb3,h6,Bxf6,Bxf6,d4,cxd4,cxd4,exd4,e5,dxe5,Qe6,Rc8,Kb1,Kb8,Rc1,Bg5,Nxg5,hxg5,Rxh8,Qxh8,Nc5,Qh7+,Ka1,Qe7,Qb3,Na5', 'Na6+,Ka8,Rxc8#', 'https://lichess.org/training/IYdBW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iyEly', 'Classical', 'UncertainPrinciples', 1697, 'Timbo23', 1751, 'd4,d5,c4,c6,e3,Nf6,h3,Bf5,Ne2,e6,c5,b6,b4,bxc5,bxc5,Qa5+,Bd2,Qb5,Qb3,Qxb3,axb3,Be7,f3,O-O,Ng3,Bxb1,Rxb1,Nbd7,b4,Rfb8,Bd3,a5,bxa5,Rxb1+,Bxb1,Bd8,O-O,Bxa5,Bxa5,Rxa5,Kh2,Nb8,Nh1,Na6,Nf2,Rb5,Bd3,Ra5,Ng4,Nxg4+,hxg4,Nb4', 'Rb1,Kf8,Rxb4', 'https://lichess.org/training/iyEly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iYFks', 'Rapid', 'sithlich', 1820, 'Nemaster', 2030, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Nc3,Bb4,Qf3,d5,exd5,cxd5,Bb5+,Bd7,O-O,Bxb5,Nxb5,O-O,Bg5,Be7,Rfd1,d4,Bxf6,Bxf6,a4,Re8,Qe4,a6,Na3,Rb8,Nc4,Qc7,b3,Bg5,Re1,f6,h4,Bh6,Re2,Rbd8,Rd1,Rd7,g3,Red8,f4,Qc5,fxe5', 'd3+,Rf2,dxc2', 'https://lichess.org/training/iYFks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IYFrC', 'Blitz', 'IM Kildepiotr', 2471, 'LANATER2020', 2435, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d6,Nbd2,c6,e4,Bg4,h3,Bxf3,Qxf3,Nbd7,Qe2,e5,dxe5,dxe5,a4,a5,Nc4,Qe7,b3,b5,Ba3,b4,Bb2,Ne8,Rfd1,Nc5,h4,Nc7,Bh3,Rfd8,f3,N5e6,Rxd8+,Rxd8,Nxa5', 'Qc5+,Kh1,Qxa5', 'https://lichess.org/training/IYFrC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IyFRH', 'Blitz', 'Drakakis', 1603, 'jpk1489', 1593, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Bg4,O-O,e6,d3,c6,Bg5,Bxf3,Qxf3,Qxg5,Ne4,Nxe4,Qxe4,Bd6,Bxe6,fxe6,Rae1,O-O,Qxe6+,Kh8,Qxd6,Na6,a3,Rad8,Qe7,Qd2,Qxb7,Nc5,Qxa7,Qxc2,Rc1,Qxd3,Qxc5,Qd2,b4,Qa2,Ra1,Qf7,Qxc6,Rd2,Qc5,g5,Qe5+,Kg8,Qxg5+,Kh8,Qe5+,Kg8,Qe3,Rfd8,b5,R2d3,Qb6,R3d6,Qa5,Rd5,a4,Qb7,Qb4,Ra8,Qg4+,Kh8,Qh4,Rg8,Qh3,Rh5,Qc3+,Rg7,f3,Qb8,h3,Qg3,Qc8+,Rg8,Qc3+,Rg7,Rf2,Rxh3,Kf1,Rh1+,Ke2,Rh6,Rc1,Re6+,Kf1,Re5,b6,Qh2,Rfc2', 'Qh1+,Kf2,Qxg2#', 'https://lichess.org/training/IyFRH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IyG3P', 'Classical', 'noob1729', 1958, 'khaled495', 1970, 'd4,d5,c4,Nf6,cxd5,h6,Nc3,Nxd5,e4,Nxc3,bxc3,c5,Be3,cxd4,cxd4,e6,Nf3,Nc6,Bb5', 'Qa5+,Kf1,Qxb5+', 'https://lichess.org/training/IyG3P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IyG5f', 'Classical', 'francmarshallo', 1949, 'Ostedim', 1688, 'd4,c6,c4,d5,Nc3,Bf5,Bf4,a6,cxd5,cxd5,e3,Nc6,Bd3,Bxd3,Qxd3,e6,Nge2,Nf6,O-O,Bd6,h3,O-O,Rac1,Nh5,Bxd6,Qxd6,a3,Na5,Na4,Rac8,b4,Nc4,Rc3,b5,Nc5,Rfe8,Rfc1,Rc6,Nb7,Qc7,Nc5,Nf6,Ng3,e5,dxe5,Nxe5,Qf5,Nfd7,Nxd7', 'Rxc3,Rxc3,Qxc3', 'https://lichess.org/training/IyG5f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iygua', 'Rapid', 'reggy', 1817, 'Ant-on_35', 1900, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,h6,h3,a6,Be2,e6,Nf3,b5,O-O,b4,Nb1,Nxe4,c3,bxc3', 'Qa4+,Nd7,Qxe4,cxb2,Bxb2', 'https://lichess.org/training/Iygua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IYHMz', 'Classical', 'markagabi48', 1679, 'GustavoAzeredo', 1618, 'e4,c5,Bc4,e6,a3,Nc6,d3,d5,exd5,exd5,Bb5,Ne7,Be3,d4,Bf4', 'Qa5+,Nd2,Qxb5', 'https://lichess.org/training/IYHMz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iYjUv', 'Rapid', 'phoxie', 1680, 'Gedeoon', 1630, 'd4,h6,e4,a6,Nc3,Nc6,Nf3,d6,d5,Ne5,Nxe5,dxe5,Bc4,f6,Qf3,Qd6,O-O,e6,Qh5+,Ke7,Rd1,Qb6,Be3,c5,dxe6,Bxe6,Bxe6,Kxe6,Qf5+,Kf7,Rd7+,Ne7,Nd5,Qxb2,Rd1,Qxc2,Nxe7,Bxe7,Rxe7+,Kxe7,Rd7+,Kf8,h3,Qxa2,Bxc5+,Kg8,Qg6,Rh7,Re7,Rc8', 'Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/iYjUv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iyK6c', 'Rapid', 'Alaa1999', 1994, 'Michael_Toyaoan', 1978, 'Nf3,d5,d4,Nc6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Ne4,Qc2,Ne7,e3,c6,Bd3,f5,cxd5,exd5,Be5,Rg8,c4,Qa5+,Ke2,Be6,Nd2,Rf8,Nxe4,fxe4,cxd5,Bxd5,Bxe4,Qb5+,Bd3,Qb6,Rab1,Qa5,Rhg1,b5,Bd6,Rf6,Bb4,Qc7,Be4,Bc4+,Bd3,a5,Bxe7,Bxd3+,Qxd3,Qxe7,Rgc1,Rc8,Rc5,Qf7,Rf1,Qa2+,Rc2,Qd5,e4,Qf7,Qe3,Kf8,Rb1,Re8,Rbc1,Rxf2+,Qxf2,Rxe4+,Kf1,Rf4,Qxf4,Qxf4+,Kg1,Qxd4+,Rf2+,Ke7,Re1+,Kd7,Kf1,Qd3+,Ree2,Qxa3,Rf7+,Kc8', 'Re8#', 'https://lichess.org/training/iyK6c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iYkjc', 'Blitz', 'FM SergIomiguel', 2258, 'VanderXadrezarTe', 2049, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,c4,Bc2,Qa5,O-O,b5,Ne1,b4,f4,Nge7,Nd2,bxc3,Ndf3,cxb2,Bxb2,c3,Bc1,Ba6,Rf2,Rb8,Nd3,Bxd3,Bxd3,Nb4,Rb1,Nec6,a3,Nxd3,Rxb8+,Nxb8,Qxd3,Be7,f5,h6,fxe6,fxe6,Qg6+,Kd7,Qxg7,Qd8,Bxh6,Qf8,Qxf8,Bxf8,Bxf8,Rxf8,Rc2,Rc8,Rxc3,Rxc3,h4,Rxa3,h5,Rxf3,gxf3,Ke7,Kf2,Nc6,Ke3,a5,f4,a4,Kd3,a3,Kc3,a2,Kb2,Nxd4,Kxa2,Ne2,f5,exf5,h6,Kf7', 'e6+,Kxe6,h7', 'https://lichess.org/training/iYkjc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iYkRA', 'Rapid', 'Baltazar369', 1629, 'erbastwild', 1602, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,a6,Bc4,b5,Bd5,Bb7,Nc3,e6,Bxc6,Bxc6,Nf3,Bb4,O-O,Bxc3,bxc3,Bxe4,Bg5,Nf6,Ne5,O-O,Bxf6,gxf6,Nxd7,Bxc2,Qxc2,Qxd7,a4,Kh8,Rfd1,Qb7,h3,Rg8,g3,Rg6,axb5,Qxb5,Rab1,Qh5,h4,Qxh4', 'Qxg6,hxg6,gxh4', 'https://lichess.org/training/iYkRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iykSS', 'Rapid', 'CepejaBo', 1960, 'zhaeus', 1906, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,Bg5,Be7,Be2,O-O,O-O,h6,Bxf6,Bxf6,c3,d5,d4,c6,Bd3,Re8,Re1,Bg4,Nbd2,Rxe1+,Qxe1,Nd7,h3,Be6,Qb1,c5,Bf5,Qe7,Qc2,Rc8,Re1,cxd4,Bxe6,fxe6,Qd3,dxc3,bxc3,Re8,Nd4,Bxd4,Qxd4,Qc5,Qb4,Qxb4,cxb4,Kf7,Nf3,Kf6,Nd4,a6,f4,g5,g3,gxf4,gxf4,e5,fxe5+,Rxe5,Rf1+,Kg6,Rf2,Re1+,Kh2,Nf6,Ne6,Ne4,Rg2+,Kf5,Nd4+,Kf4', 'Rg4+,Ke3,Nc2+', 'https://lichess.org/training/iykSS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iyKw2', 'Rapid', 'julianrubin', 2246, 'aldifals', 2121, 'd4,Nf6,Bf4,d6,Nc3,g6,e4,Bg7,Qd2,Nc6,O-O-O,O-O,Bh6,e5,d5,Nb4,h4,Bg4,f3,Bd7,g4,a5,h5,gxh5,Qg5,Ne8,Qxh5,Qf6,Bxg7,Qxg7,g5,f5,gxf6,Nxf6,Qh4,Rf7,Rd2,Kf8,Rg2,Qh8,Nh3,Bxh3,Rxh3,Ke7,Rhg3,Raf8,a3,Na6,Bxa6,bxa6,Nd1,h5,Rg6,Kd8,Ne3,Kc8,Nf5,Nxd5,Nxd6+,cxd6,Rxd6,Nc7,b3,Rxf3,Kb2,R3f4,Qh3+,Kb7,Qe3,R8f6,Rgd2,Rxd6,Rxd6,Rf6', 'Qb6+,Kc8,Rxf6', 'https://lichess.org/training/iyKw2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iylgc', 'Rapid', 'NOGALESALFILYCABALLO', 1820, 'artGrr', 1798, 'e4,c6,c3,d6,d4,h6,Nf3,g5,Be3,Qb6,Qc2,Nf6,Bd3,Ng4,Bd2,Nd7,Na3,Bg7,Nc4,Qc7,Ne3,Nxe3,Bxe3,Nf6,O-O-O,Be6,b3,O-O-O,Nd2,Nd7,Kb1,a6,Rc1,b5,f4,a5,fxg5,hxg5,Bxg5,f6,Bf4,Kb7,Nf3,Nb6,Qe2,Ra8,d5,cxd5,Bxb5,dxe4,Qxe4+,Bd5,Qc2,e5,Be3,f5,c4', 'Be4,Qxe4+,fxe4', 'https://lichess.org/training/Iylgc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IymTc', 'Classical', 'ventdunord', 1814, 'jr152', 1767, 'e4,e5,Nf3,Bc5,Bc4,Nc6,O-O,Nf6,d4,exd4,e5,Ng4,Bf4,d5,Bb5,O-O,h3,Nxf2,Rxf2,d3,Bxd3,Bxf2+,Kxf2,f6,exf6,Rxf6,Kg1,Rxf4,Nc3,Be6,Qd2,Qf6,Rf1,Rf8,Ne2,Ra4,Nc3,Ra5,Ng5,Qh6,Rxf8+,Kxf8,Nxh7+,Ke7,Ng5,d4,Nb5,Rxa2,Nxc7,Ra1+,Kh2,Bxh3,gxh3,Qd6+,Kg2,Qxc7,Nf3,Kd8,Qg5+,Qe7,Qd5+,Kc7,Ng5,Re1,Ne4,Qd7,Qg5,Qe7', 'Qg3+,Kb6,Qxe1', 'https://lichess.org/training/IymTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IyNbJ', 'Rapid', 'StrifeZero', 1813, 'B--5555--L', 1912, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,a6,Nc3,Nf6,Nf3,Bg4,d4,e6,O-O,Be7,h3,Bh5,Re1,h6,Bf4,O-O,Qd2,Bxf3,gxf3,Nc6,Ne2,Bd6,Bxh6,Na5,Bg5,Nxb3,axb3,Be7,Nf4,Nh7,Bxe7,Qxe7,c4,Qd6,Nd3,Rfd8,f4,Nf6,c5,Qc7,Qe3,Ne4,h4,g6,Qh3,Kg7,h5,Rh8,Qg4,Rag8,Re3,Kf8,Rh3,Nf6,Qf3,Nxh5,Ne5,Nf6,Rxh8,Rxh8,Kg2,Ke7,Qg3,Qd8,c6,Qc7,Rc1,b5,Ng4,Ne4,Qf3,Rh5,Qe3,Rf5,f3,Nd6,Nh6,Rh5,Ng8+,Kf8,Nf6,Nf5,Qe5', 'Nh4+,Kf2,Rxe5', 'https://lichess.org/training/IyNbJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iYoNg', 'Classical', 'CarlesB', 1628, 'ATUL95', 1628, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,O-O,O-O,Re1,d6,d4,exd4,cxd4,Bb6,Bg5,h6,Bh4,Bg4,e5,dxe5,dxe5,Qxd1,Rxd1,Bxf3,exf6,Bxd1,fxg7,Rfe8,Nc3,Bh5,Nd5,Kxg7,Bf6+,Kg6', 'Bd3+,Re4,Bxe4#', 'https://lichess.org/training/iYoNg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iYppl', 'Blitz', 'Radko2006', 1969, 'scotchboi', 1972, 'c4,c5,e4,d6,Nf3,Nc6,Nc3,e5,d3,g6,Be2,Bg7,O-O,Nge7,Bg5,Be6,Qd2,O-O,Bh6,f5,Bxg7,Kxg7,Nd5,fxe4,dxe4,Nd4,Nxd4,cxd4,Rac1,Rc8,f4,Nc6,f5,gxf5,exf5,Rxf5,Rxf5,Bxf5,Rf1,Bg6,Bg4,Rb8,Qf2,b5,cxb5,Rxb5,Nf6,e4,Nh5+,Kh8', 'Qf8+,Qxf8,Rxf8#', 'https://lichess.org/training/iYppl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iYQa4', 'Rapid', 'selss', 2154, 'Sasa_Kostic', 1926, 'Nc3,d5,e4,d4,Nce2,e5,Ng3,c5,Bc4,Nf6,Nf3,Bg4,Nxe5,Bxd1', 'Bxf7+,Ke7,Nf5#', 'https://lichess.org/training/iYQa4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IYSaQ', 'Classical', 'kiril561', 2015, 'Svinarik_Roman', 1891, 'd4,g6,Bg5,Bg7,e3,h6,Bh4,Nf6,Bd3,d5,h3,g5,Bg3,Ne4,Bxe4,dxe4,c4,c6,Nc3,Bf5,Qb3,Qc8,Nge2,Nd7,Bh2,a5,Ng3,Bg6,Ncxe4,Nf6,Nc3,O-O,Nge2,Ne4,Nxe4,Bxe4,O-O,Qd7,Ng3,Bg6,Rfd1,Qc8,Rac1,f5,d5,c5,Ne2,Kh7,Nc3,Qd7,Na4,f4,exf4,gxf4,Nb6,Qf5,Nxa8,Rxa8,Qxb7,Qg5,Qxa8,Be4,g4,fxg3,Bxg3,Be5,Rc3,Qh5,f3,Bxg3,Qc8,Bxf3,Rf1,Bh2+,Kxh2', 'Qe5+,Kg1,Qg3#', 'https://lichess.org/training/IYSaQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IYthI', 'Blitz', 'IM Magico69', 2423, 'orsovladi', 2360, 'd4,d6,c4,Nd7,e4,e5,Nf3,Ngf6,Nc3,Be7,Be2,c6,O-O,Qc7,h3,h6,Be3,g5,Nd2,Nf8,b4,Ng6,c5,exd4,Bxd4,dxc5,bxc5,Be6,Nc4,O-O-O,Nd6+,Bxd6,cxd6,Rxd6,Qa4,Rxd4,Qxd4,Qe5,Qe3,Kb8,Rab1,Nf4,Ba6,Bc8,Na4,Ka8,Bc4,Qxe4,Qxe4,Nxe4,Rfe1,Nd2,Rbc1,Nxc4,Rxc4,b5,Rxc6,bxa4,Rc7,Be6,a3,Kb8,Rc5,a6,Re4,Rd8,Rb4+,Ka8,Rxa4,Rd6,Rb4,Nd5,Rd4,Ka7,h4,Kb6,Rc1,Rc6,Rb1+,Kc7,hxg5,hxg5,g3,Kd6,a4,Ke5,Rdd1,Rc4,a5,Ra4,Ra1,Rxa1,Rxa1,g4,Rc1,Nb4,Rb1,Nd3,Rb6,Bc4,Kg2,Bb5', 'Rxb5+,axb5,a6', 'https://lichess.org/training/IYthI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IYTIQ', 'Blitz', 'zerbinet21', 2011, 'StDejan', 2017, 'd4,Nf6,c4,d5,Nf3,c6,Nc3,Bf5,cxd5,Nxd5,Qb3,Nb6,e4,Bg6,Be2,e6,Bf4,Bd6,Bg5,Qc7,Rc1,O-O,Nb5,Qd7,Nxd6,Qxd6,Bd3,N8d7,O-O,Rac8,Rfe1,e5,dxe5,Nxe5,Nxe5,Qxe5,Bh4,Kh8,Bg3,Qe7,Rcd1,Rfd8,f3,f6,a4,Bf7,Qc2,Nd7,Bc4', 'Qc5+,Bf2,Qxc4,Qxc4,Bxc4', 'https://lichess.org/training/IYTIQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IYTmD', 'Blitz', 'localidad_temporal', 1623, 'EliasAlucard', 1512, 'e4,c6,Nf3,d6,Bc4,e6,O-O,Be7,d3,Nf6,Nc3,O-O,d4,d5,exd5,cxd5,Bd3,g6,Ne2,Bd6,c4,Bc7,cxd5,Qxd5,b3,Bd7,Bh6,Rd8,Nc3,Qh5,Qd2,Bc6,Be2,Bxf3,Bxf3', 'Qxh2#', 'https://lichess.org/training/IYTmD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IYuyn', 'Blitz', 'mediogio', 1534, 'RMathers', 1534, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Bc5,O-O,O-O,Nc3,Re8,Bg5,d6,a3,a5,h3,a4,Ne2,Ra5,Ng3,Bxf2+,Rxf2,Rxg5,Nf5,Nxe4,Bxe4,Rxe4,Nd4,Bxh3,Nxc6,Qa8,Qf3,Bxg2', 'Qxf7+,Kh8,Qf8+,Qxf8,Rxf8#', 'https://lichess.org/training/IYuyn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iYvyO', 'Rapid', 'SashaRS', 2353, 'expsddd', 2247, 'e4,d6,d4,Nf6,Bd3,g6,Be3,Bg7,Nc3,Nc6,Nge2,e5,d5,Ne7,O-O,O-O,Qd2,Ng4,h3,Nxe3,fxe3,f5,exf5,Nxf5,Bxf5,gxf5,a4,Qg5,Nb5,Rf7,Qc3,f4,Rf2,Bxh3', 'exf4,exf4,Qxh3', 'https://lichess.org/training/iYvyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iyW0d', 'Blitz', 'Matheus_06', 2053, 'simonXX', 1995, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,O-O,d3,d6,e4,Nc6,Nge2,e6,O-O,Ne7,h3,c6,f4,d5,cxd5,cxd5,e5,Nh5,Kh2,f6,d4,g5,fxg5,fxe5,dxe5,Bxe5,Rxf8+,Qxf8,Be3,Nf5,Bf4,Nxf4,Nxf4,Bxf4,gxf4,Ne3,Qf3,Nxg2,Kxg2,Qf5,Re1,Bd7,Qg4,Rf8,Qxf5,Rxf5,Kg3,Kg7,h4,Kg6,a4,h6,Nb5,a6,Nc7,hxg5,hxg5,Kf7,Rh1,Bxa4,Rh7+,Kg8,Re7,d4,Nxe6,d3,Rg7+,Kh8,Kg4,Rd5,Kh5,d2,Kh6,d1=Q,Rh7+,Kg8,Rg7+,Kh8,Rh7+,Kg8,Rxb7,Qh1+,Kg6,Bc2+,f5,Bxf5+,Kf6,Bxe6,Rb8+,Kh7', 'g6+,Kh6,Rh8#', 'https://lichess.org/training/iyW0d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IyWhG', 'Blitz', 'lichess3223', 1870, 'VicentVM', 1811, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,f3,O-O,Be2,d5,e5,Nfd7,f4,Nc6,Be3,Ne7,O-O,a6,Bd3,g6,Rf3,Nf5,Nxf5,exf5,Rh3,h5,Bxf5,Bc5,Nxd5,Bxe3+,Nxe3,Qb6,Kh1,Nc5,Rg3,Bxf5,Nxf5,Ne4,Rxg6+,fxg6,Qd5+,Kh7', 'Qd7+,Rf7,Qxf7+,Kh8,Qg7#', 'https://lichess.org/training/IyWhG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iyyc9', 'Classical', 'mohammadf1466', 1767, 'benibiz', 1797, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd2,O-O,Bc4,Re8,f3,d5,Bb3,Bxc3,Bxc3,Nxe4,fxe4,Rxe4+,Kf2,Rf4+,Kg1,Ba6,Qd2,Qd6,g3,Qc5+,Kg2,Re8,Qxf4,Re2+,Kh3,Bc8+,g4,Re3+,Kh4,Qe7+,Qg5', 'Rh3+,Kxh3,Qxg5', 'https://lichess.org/training/iyyc9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IYZCp', 'Blitz', 'Sonu7368', 1732, 'sarmat67', 1727, 'd4,d5,c4,e6,Nc3,f5,Qc2,Nf6,cxd5,exd5,Bg5,c6,e3,Be7,Bd3,Ne4,Bxe7,Qxe7,Nxd5,cxd5,Qxc8+,Qd8,Bb5+,Nc6,Bxc6+,Ke7,Qxb7+,Kf6,Bxd5,Qa5+,Kf1,Nd2+,Ke2,Ne4,Qf7+,Kg5,Nf3+,Kh6,Bxe4,Rhf8,Qe6+,g6,Bd3,Rae8,Qd7,Qb6,h4,Qxb2+,Nd2,f4,e4,Qa3,Qg4,Re7,Qg5+,Kg7,h5,Qd6,hxg6,Kh8,Qh6,Rfe8,gxh7,Qxd4,Nf3,Rxe4+,Bxe4', 'Rxe4+,Kf1,Qxa1+,Ne1,Qxe1#', 'https://lichess.org/training/IYZCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iz3qR', 'Blitz', 'onlyhippocx', 1700, 'leeuloop', 1696, 'e4,d5,Nf3,Nf6,exd5,Bg4,Be2,Qxd5,O-O,Nc6,Nc3,Qh5,h3,O-O-O,hxg4,Nxg4,d3,e5,Bg5,e4,Nxe4,Nd4,Bf4,Bd6,Ng3', 'Nxf3+,Bxf3,Qh2#', 'https://lichess.org/training/iz3qR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZ6Wa', 'Rapid', 'MN_Lawliet', 2034, 'Oker13', 2005, 'e4,e6,Nf3,d5,Nc3,Nf6,e5,Nfd7,d4,c5,Bf4,Nc6,dxc5,Bxc5,Bd3,Qc7,O-O,a6,a3,Ndxe5,Nxe5,Nxe5,Re1,Bd6,Qh5,Nxd3,Nxd5,Qc5,Bxd6', 'Qxf2+,Kh1,Nxe1', 'https://lichess.org/training/iZ6Wa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Iz88g', 'Blitz', 'CM ventdelest', 2319, 'donskoy52', 2319, 'e4,e6,d4,d5,Nc3,Bb4,e5,b6,Bd2,Ba6,Nce2,Be7,Ng3,Bxf1,Nxf1,c5,c3,Nc6,Qg4,g6,Ne2,Rc8,Ne3,h5,Qf3,Nh6,h3,cxd4,cxd4,Nf5,Nxf5,gxf5,a3,h4,O-O,Kd7,Rfc1,Rg8,Kf1,Bg5,Bxg5,Qxg5,Rc3,Na5,Nf4,Rc4,Rac1,Rgc8,b4,Rxc3,Rxc3,Nc4,Ke2,b5,Rc2', 'Nxe5,dxe5,Rxc2+', 'https://lichess.org/training/Iz88g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZ96K', 'Blitz', 'escultor_de_mates4x4', 2140, 'RiskyBlitzer', 2286, 'e4,e5,Nf3,d5,d4,dxe4,Nxe5,Bd6,Nc4,Nc6,d5,Ne5,Nc3,Nf6,Qd4,Nxc4,Bxc4,O-O,Bg5,Bf5,O-O-O,Qe7,g4,Bg6,Nb5,h6,Bxf6,Qxf6,Qxf6,gxf6,Nxd6,cxd6,h4,Rac8,Bb3,b5,a4,bxa4,Bxa4,Rc5,Rh3,Ra5,Bb3,Rb8,h5,Bh7,Rc3,Rb4,Kd2,f5,gxf5,Bxf5,Rg1+,Kf8,Ke3,Ke7,Rc7+,Kf6,Rg8,Ra1,Rd8,Re1+,Kd2,Rh1,Rxd6+,Ke5,Rxh6,Rd4+,Kc3', 'Rh3+,f3,Rxf3#', 'https://lichess.org/training/iZ96K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('izbBr', 'Rapid', 'Erlo_adonis', 1860, 'AV110', 1846, 'e4,e5,d4,exd4,c3,dxc3,Qb3,cxb2,Bxb2,a5,Bc4,Nh6,Nf3,d6,O-O,Nc6,Re1,a4,Qb5,Bd7,Nbd2,Nd4,Qd5,Nc2,Ng5,Bc6,Qd3,Nxa1,Bxa1,Qxg5,Nf3,Qd8,e5,d5,Bb5,Be7,e6,O-O,exf7+,Nxf7,Nd4,Bf6,Ne6,Bxb5,Qxb5,Qe8,Qxd5,Kh8,Bxf6,gxf6,Qf5,Rg8', 'Qxf6+,Rg7,Qxg7#', 'https://lichess.org/training/izbBr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZbF7', 'Rapid', 'ifxckinghatechess', 1852, 'vishwashankar', 2024, 'd4,Nf6,Nf3,c5,c3,g6,Bg5,Bg7,Ne5,O-O,e4,Nxe4,Bd3,Nxg5,O-O,d6,Nc4,cxd4,cxd4,Be6,Ne3,Bxd4,h4,Bxb2,Nd2,Bxa1,Qxa1,Nh3+,gxh3,Bxh3,Rd1,e6,Nf3,d5,Kh2,Bf5,Bxf5,exf5,Nxd5,f6,h5,Qd6+,Kg2,Nc6,hxg6,hxg6,a3,Ne5,Nxf6+,Qxf6,Nxe5,Rfe8,f4,g5,Re1,g4,Re3,Rac8,Qa2+,Kg7,Qb2,b6,Rd3,Rc7,a4,Rh8,Qd2,Qe6,Qb2,Kg8,Rd8+,Kh7,Rxh8+,Kxh8,Ng6+,Kg8,Qh8+,Kf7,Qh7+,Ke8,Qh8+,Kd7', 'Nf8+,Kd6,Nxe6', 'https://lichess.org/training/IZbF7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZBZG', 'Bullet', 'Crumples', 1621, 'Guapyz', 1597, 'e4,c5,Nc3,Nc6,Bc4,e5,d3,Nf6,f4,Qc7,Nf3,exf4,O-O,Bd6,Bb5,a6,Bc4,b5,Bb3,O-O,Qe1,Ng4,h3,Nge5,Nd5,Nxf3+,Rxf3,Qb8,Nxf4,g5,Nd5,Bh2+,Kh1,d6,Bxg5,Be5,Bh6,Re8,Qh4,Nd4,Qg5+,Kh8,Rxf7,Rg8,Ne7,Rxg5', 'Rf8+,Rg8,Rxg8#', 'https://lichess.org/training/IZBZG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('izCkM', 'Rapid', 'smcalpin01', 1706, 'martionilio', 1697, 'e4,b6,Nc3,Bb7,Bc4,g6,Nf3,c6,a3,Bg7,d4,d5,Bb3,Nf6,e5,Nfd7,O-O,O-O,Bg5,Qe8,Qd2,e6,Bh6,c5,Bxg7,Kxg7,Nb5,Qe7,Nd6,Ba6,Rfe1,c4,Ba4,Bc8,Qf4,a6,Bxd7,Qxd7,Ng5,f6,exf6+,Rxf6,Qe5,Nc6,Qg3,Nxd4,Qe5,Nxc2,Red1,Nxa1,Rxa1,h6,Nf3,Bb7,Nd4,Qe7,Nxb7,Qxb7,Nxe6+,Kf7,Re1,Re8', 'Ng5+,hxg5,Qxe8+', 'https://lichess.org/training/izCkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZCpi', 'Blitz', 'P_M_S', 1798, 'Complexuss', 1804, 'g4,e5,Bg2,Bc5,c4,Qh4,e3,d6,h3,Qe7,Qb3,c6,Nc3,Bb6,Na4,Bc7,Nf3,e4,Nd4,Na6,O-O,Rb8,d3,exd3,Qxd3,h5,Nf5,Bxf5,Qxf5,hxg4,Qxg4,Qf6,Rb1,Nh6,Qh5,O-O,e4,Rbe8,Nc3,Re5,Qe2,Qg6,Kh1,Nc5,Rg1,Qe6,f3,f5,Bf1,f4,b4,Nd7,Bb2,Rh5,Qg2,Rf7,Ne2,Ne5,Nxf4,Rxh3+,Nxh3,Kf8,Ng5,Qf6,Nxf7,Qxf7,f4,Neg4,f5,d5,cxd5,cxd5,Rc1,dxe4,Qxe4,Qh5+,Kg2', 'Qh2+,Kf3,Qf2#', 'https://lichess.org/training/IZCpi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('izdz5', 'Blitz', 'Danahi_21', 1546, 'aczino612', 1717, 'e4,e6,d4,d5,e5,c5,Qg4,cxd4,Bd3,Nc6,Nf3,Qc7,O-O,Nxe5,Qg3,Nxf3+,Qxf3,Nf6,Bf4,Bd6,Bxd6,Qxd6,Nd2,Bd7,Nb3,O-O,Rae1,Qb4,a3,Qb6,Re5,h6,Rfe1,Bb5,Bxb5,Qxb5,Nxd4,Qxb2,Qf4,Qxa3,R5e3,Qe7,Rg3,Nh5,Qg4,Nxg3,Qxg3,Qf6,c3,Rac8,h3,Rfd8,Kh2,Rd7,Re3,Rdc7,Nb5,Rc5,Nd6,R8c7,Ne8,Qe7,Nxc7,Qxc7,f4,Rc4,Rf3,a5,Qf2,Rxc3,Rxc3,Qxc3,Qb6,Qb4,Qd8+,Kh7,Qh4,a4,Qg4,a3,Qe2,Qb3,f5,a2,fxe6,fxe6,Qxe6,a1=Q,Qf5+,Kg8,Qe6+,Kh8,Qc8+,Kh7,Qf5+,Kg8,Qe6+,Kf8,Qc8+,Kf7,Qf5+,Qf6,Qd7+,Qe7,Qf5+,Ke8,Qc8+,Qd8,Qe6+,Qe7,Qc8+,Kf7,Qf5+,Qf6,Qd7+,Kg6,Qg4+,Qg5,Qe6+,Kh5', 'g4+,Kh4,Qe1+,Qg3+,Qxg3#', 'https://lichess.org/training/izdz5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZekx', 'Classical', 'Galichy', 1601, 'RivenMainIRL', 1631, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Bb4,a3,Bxc3+,bxc3,O-O,cxd5,exd5,e3,Bf5,Bd3,Bxd3,Qxd3,Nc6,Nf3,Qd6,O-O,Ng4,Bf4,Qf6,h3,Nh6,Rab1,b6,Rb5,Rfd8,Bxc7,Rd7,Be5,Nxe5,dxe5,Qc6,Nd4,Qc8,f4,g6,Nf3,Nf5,Rxd5', 'Rxd5,Qxd5,Nxe3,Qe4,Nxf1', 'https://lichess.org/training/IZekx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZfFb', 'Rapid', 'moha2020', 1636, 'Daniel_abs', 1625, 'e4,d5,exd5,Qxd5,c4,Qd8,d4,Bf5,Nc3,e6,Nf3,Nf6,Bf4,h6,Nb5,Na6,Qa4,c6,Nc3,Bd6,Bxd6,Qxd6,d5,O-O,Rd1,Nc5,Qb4,Nd3+,Bxd3,Qxb4,Bxf5,exf5,dxc6,bxc6,O-O,Qxc4,Ne5,Qxa2,Nxa2,c5,Nc3,a5,Nd3,Rfc8,Na4,c4,Ne5,Ng4,Nb6,Nxe5,Nxa8,Rxa8,Rfe1,f6,f4,Nd3,Re2,Nxf4,Rc2,Rc8,Rd4,g5,Rcxc4,Ra8,Rd7,a4,Rcc7,a3,Rg7+,Kf8,Rcf7+,Ke8,Re7+,Kf8,Rgf7+,Kg8,Rg7+,Kh8,Rh7+,Kg8,Rhg7+,Kh8,Rh7+,Kg8,Reg7+,Kf8,bxa3,Rxa3,Kf1,Ra1+,Kf2,Ra2+,Ke3,Ra3+,Kd4', 'Ne6+,Kd5,Nxg7', 'https://lichess.org/training/iZfFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('izFfy', 'Rapid', 'Schmetz', 1705, 'Leopat', 1673, 'e4,c6,c4,e5,Nf3,d5,cxd5,cxd5,Nxe5,dxe4,Qe2,Qd5,Nc4,Nf6,Nc3,Qf5,d3,Be6,dxe4,Qg6,Qf3,Bb4,Bd2,Bxc3,Bxc3,Qxe4+,Qxe4,Nxe4,Bxg7,Rg8,Be5,Nc6,f3,Bxc4,Bxc4,Nxe5,Bb5+,Nc6,fxe4,Rxg2,O-O-O,a6,Bxc6+,bxc6,Rd6,Rb8,b3,Rb6,Kb1,a5,Rhd1,a4,Rd8+,Ke7,R1d7+,Kf6,Rd6+,Kg7,Rd3,axb3,axb3,Rxh2,Rg3+,Kh6,Rd6+,Kh5,Rd7,Kh4,Re3,c5,Rxf7,c4', 'Rxh7+,Kg4,Rxh2', 'https://lichess.org/training/izFfy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZfGb', 'Blitz', 'tupac58', 2169, 'steinitz2', 2143, 'e4,e5,Nf3,Nc6,d4,d6,Bb5,Bd7,Nc3,Nge7,O-O,Ng6,Nd5,Be7,Re1,O-O,c3,Nxd4,Bxd7,Nxf3+,Qxf3,Qxd7,g3,c6,Nxe7+,Nxe7,Be3,f5,exf5,Rxf5,Qg4,Raf8,Rad1,Qe6,Re2,h5,Qa4,a6,Red2,Nd5,Qe4,Nxe3,Rxd6,Rxf2,Rxe6', 'Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/iZfGb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IzFHn', 'Rapid', 'kickback', 2160, 'biznesmaan', 2170, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Bb4,Qc2,O-O,Bg5,b6,e3,Bb7,Ne5,dxc4,Nxc4,Nbd7,f3,Ba6,a3,Bxc3+,Qxc3,Rc8,Qd2,c5,b3,cxd4,exd4,Rc7,Be2,Qe7,O-O,Rfc8,Bf4,Rc6,Rfe1,Nd5,Bg3,Qf6,Ne5,Rc2,Nxd7,Qe7,Bxa6,Rxd2,Bxc8,Qd8,Rac1,Ne7,Bh4,f6,Nxf6+,gxf6,Bxe6+,Kg7,Bf2,Qd6,b4,Nc6,d5,Ne5,Bg3,b5,Rc8,Qb6+,Kh1,Nd3,Rg1', 'Qxg1+,Kxg1,Rd1+,Be1,Rxe1#', 'https://lichess.org/training/IzFHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZgif', 'Rapid', 'schwangus', 2092, 'barents', 1981, 'e4,Nc6,d4,e5,d5,Nce7,Nf3,d6,Bd3,f5,Ng5,Nf6,Nd2,h6,Ne6,Bxe6,dxe6,fxe4,Nxe4,Nfd5,Qh5+,g6,Nf6+,Nxf6', 'Bxg6+,Nxg6,Qxg6+,Ke7,Qf7#', 'https://lichess.org/training/IZgif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Izgtj', 'Rapid', 'Ahmedsamir122', 1807, 'viktor2323', 1824, 'e4,g6,c3,Bg7,d4,e6,Nf3,Ne7,Be3,b6,Bb5,Bb7,Nbd2,a6,Ba4,h6,Qc2,b5,Bb3,d6,e5,d5,a4,Nd7,O-O,g5,Bxg5,hxg5,Nxg5,Nf5,Ndf3,Bh6,Nh3,c5,axb5,c4,Ba4,Nb6,bxa6+,Ke7,axb7,Rxa4,Rxa4,Qb8,Rfa1,Nxa4,Rxa4,Qxb7,Rb4,Qa7,Qb1,Kf8,b3,cxb3,Rxb3,Kg7,Nhg5,Kg6,Nh3,Kh5,Ne1,Rg8,Nd3,Kg6,Ndf4+,Kg7,Rb7,Qa4,Nxe6+,Kh8,Qxf5', 'Qd1#', 'https://lichess.org/training/Izgtj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZGUr', 'Rapid', 'Mtarawneh685', 2064, 'Nikita_30', 2040, 'e4,g6,Nf3,Bg7,Bc4,e6,O-O,Ne7,d4,d5,exd5,Nxd5,Bxd5,Qxd5,Nc3,Qh5,Qd3,O-O,Be3,Nc6,Nb5,e5,Nxc7,Rb8,c3,Bf5,Qd2,Bh3,Ng5,Bxg2,Kxg2,h6,Ne4,f5,Ng3,Qh4,f4,g5,dxe5,Rbd8,Qe2,Bxe5,Ne6,Rde8,Nxf8,Kxf8,fxe5,Rxe5,Rxf5+,Rxf5,Nxf5,Qe4+,Qf3,Qc2+,Bf2,Ne5,Qd5,Nd3,Qd6+,Kf7,Nxh6+,Kg7,Nf5+,Kf7,Rf1,Nf4+,Kh1', 'Qe4+,Kg1,Ne2#', 'https://lichess.org/training/iZGUr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('izguU', 'Rapid', 'SuperJunior', 2230, 'danlok', 2265, 'd4,e6,c4,Nf6,Nc3,d5,Bf4,c6,e3,Nbd7,Nf3,dxc4,Bxc4,b5,Bd3,Bb7,h3,a6,Rc1,c5,O-O,Be7,Re1,O-O,Ne5,b4,Na4,cxd4,exd4,Nb6,Nc5,Qxd4', 'Bxh7+,Nxh7,Qxd4', 'https://lichess.org/training/izguU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('izJbM', 'Rapid', 'AlphaWhiskey', 1684, 'wall89', 1901, 'd4,c6,Bf4,d5,Nd2,Nf6,e3,Bf5,Ngf3,Ne4,Nh4,Nxd2,Nxf5,Nxf1,Kxf1,e6,Ng3,Bd6,Bxd6,Qxd6,Qg4,g6,Ke2,Nd7,Rhd1,c5,c3,cxd4,exd4,Nf6,Qf3,Qe7,Kf1,b5,Re1,a5,Qd3,b4,cxb4,Qxb4,b3,O-O,Ne2,Rfc8,Kg1,Rc7,h3,Rac8,a3,Qb6,Rab1,Ne4,b4,Nc3,Rb2,Nxe2+,Rexe2,Rc3,Qd2,Rxa3,bxa5,Qxa5,Qf4,Qc3,Rb8,Rxb8,Qxb8+,Kg7,Qe5+,Kf8,Qb8+,Ke7,Qb7+,Kd6,Qb8+,Qc7', 'Qb4+,Kd7,Qxa3', 'https://lichess.org/training/izJbM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('izK0I', 'Blitz', 'TheConjuring', 2206, 'FM SembrandoAjedrez', 2354, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,c3,Bf5,Bd3,Bxd3,Qxd3,e6,O-O,Bd6,Bg5,Qc7,Nbd2,Nge7,h3,O-O,Rfe1,Rab8,Bxe7,Qxe7,Ne5,Qc7,Qe2,b5,Nxc6,Qxc6,a3,a6,Nf3,Bc7,Ne5,Qd6,g3,Rfe8,Qh5,Re7,Re3,Rbe8,Rf3,f6,Ng4,e5,dxe5,fxe5,Qg5,Qg6,Nf6+', 'gxf6,Qxg6+,hxg6', 'https://lichess.org/training/izK0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZlGw', 'Rapid', 'zayan__hasan', 1727, 'Danjal', 1750, 'e4,e5,Nf3,Qf6,Bc4,Bc5,O-O,c6,c3,d6,d4,exd4,cxd4,Bb6,Nc3,h6,e5,dxe5,Nxe5,Be6,Re1,Ne7,Bxe6,Qxe6,f4,Nd7,Nxd7,Qxd7,Be3,Nf5,d5,Bxe3+,Rxe3+,Nxe3,Qe2,Qe7,Re1,O-O,Qxe3,Qxe3+,Rxe3,Rfe8,Rd3,Rad8,Kf2,f5,h3,g5,g4,fxg4,hxg4,gxf4,Kf3,Rf8,d6,b5,Ne4,a5,Rc3,Rc8,d7,Rc7,Rd3,Rd8,Nc5,Kf8', 'Ne6+,Ke7,Nxc7,Rxd7,Rxd7+,Kxd7,Na6', 'https://lichess.org/training/IZlGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZlif', 'Rapid', 'AuntNora', 1720, 'nikhilnjha', 1655, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Nf6,Bg5,Qa5+,c3,Qb6,b3,h6,Bxf6,gxf6,Qxf6,Rh7,Be2,d6,O-O,Ne7,Na3,Ng8,Qh4,Rg7,Nc4,Qc7,Rad1,b5,Nxd6+,Kf8,Nf5,Bxf5,Rd3,Be6,Rfd1,f6,Rd6,Rd7', 'Rxe6,Rxd1+,Bxd1', 'https://lichess.org/training/IZlif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZmCw', 'Rapid', 'T14', 1677, 'zoranlaza', 1798, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,h3,Bxf3,Qxf3,e6,Qxb7,Nd7,Qf3,Bb4,a3,Bxc3,Qxc3,Ngf6,Bb5,O-O,O-O,Nd5,Qg3,a6,Be2,f5,Bf3,Ra7,d3,N7f6,Bxd5,Nxd5,Re1,Qf6,Be3,Rb7,b4', 'f4,Qf3,fxe3', 'https://lichess.org/training/IZmCw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZMqV', 'Blitz', 'Meter2020', 1667, 'storm282015', 1564, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Nxc6,bxc6,Nc3,e6,Qc2,Ne7,Bf4,d5,exd5,cxd5,cxd5,Nxd5,Nxd5,Qxd5,Rd1,Qa5+,Bd2,Qe5+,Be3,O-O,b3,Bb7,Qd3,Rad8,Qxd8,Rxd8,Rxd8+,Bf8,Be2,Bxg2,Rg1,Qa5+,Rd2,Be4,Kd1,Bb4,Rd4,f5,Bc4,Kf7,Rd7+,Ke8,Rxh7,Qxa2,Rh8+,Kf7,Rh7+,Kg8,Rd7,Bc2+,Ke2,Bxb3+,Kf3,Bxc4,Rxg6+,Kh8', 'Bd4+,e5,Bxe5#', 'https://lichess.org/training/iZMqV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('izmrs', 'Blitz', 'ZamirbekMaster7457', 1733, 'idvamzalih', 1759, 'd4,e6,e4,d5,e5,Nc6,c3,Be7,f4,Nh6,Nf3,O-O,Bd3,f6,O-O,fxe5,fxe5,Rf7,Bxh6,gxh6,Qc2,Rg7,Nbd2,Bg5,Nxg5,Qxg5,Rf2,Ne7,Nf3,Qg4,Raf1,Bd7,h3,Qh5,Kh2,Nf5,Rh1,Kh8,Rg1,Rag8,Bxf5,exf5,Qe2,Qg6,e6,Qg3+,Kh1,Be8,Qe5,f4,Re2,Bh5,e7,Bxf3,e8=Q,Bxg2+,Rexg2,Qxh3+,Rh2,Qf3+,Rhg2,Qh3+,Rh2,Qf3+,Rgg2', 'Qf1+,Rg1,Qxg1#', 'https://lichess.org/training/izmrs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZnMA', 'Rapid', 'marantz9', 1755, 'PrathamTiwary', 1747, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,Bxc5,Qxd5,Qxd5,Nxd5,Bd6,Be3,Be6,O-O-O,Ne7,Bb5+,Nbc6,Nf6+,gxf6,Rxd6,O-O,Nf3,Nf5,Rd3,Nb4,Ra3,Nxa2+,Rxa2,Bxa2,b3,a6,Bd3,Nxe3,fxe3,Rfe8,e4,Bxb3,cxb3,b5,Kb2,Red8,Rd1,a5,Be2,Rxd1,Bxd1,Rd8,Be2,b4,Kc2,Kg7,Nd2,Kg6,Nc4,Re8,Bd3,Rc8,Kd2,Ra8,Ke3,Kg5,g3,a4,Nb6', 'a3,Nxa8,a2', 'https://lichess.org/training/iZnMA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Izp7Q', 'Rapid', 'Teun24', 1786, 'DemolitianKnight', 1802, 'e4,e5,Nf3,Nf6,d4,exd4,e5,Qe7,Be2,Ng4,Qxd4,Nc6,Qxg4,Nxe5,Nxe5,Qxe5,O-O,d5,Qf4,Qxe2,Nc3,Qxc2,Qxc7,Be6,Qxb7,Rc8,Nxd5,Bxd5,Qxd5,Bb4,Qe5+,Kf8,Bh6,f6,Bxg7+,Kxg7,Qg3+,Kf7,a3,Rhg8,Qh3,Be7,Qh5+,Kf8,Rfe1,Qc6,g3,Qb6', 'Qh6+,Rg7,Rxe7,Kxe7,Qxg7+', 'https://lichess.org/training/Izp7Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IzQWm', 'Rapid', 'KU_Ku', 1800, 'Chessy23', 1825, 'e4,d6,f4,Nf6,e5,dxe5,fxe5,Ng4,d4,c5,Bb5+,Bd7,Qxg4,Qa5+,Nc3,Bxb5,e6,fxe6,Qxe6,cxd4', 'Qc8+,Qd8,Qxd8+,Kxd8,Nxb5', 'https://lichess.org/training/IzQWm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZrL2', 'Rapid', 'NoChainz', 1635, 'Berot', 1689, 'd4,Nf6,e3,d6,Bd3,c5,Nf3,cxd4,exd4,e5,dxe5,dxe5,Nxe5', 'Qa5+,Nc3,Qxe5+', 'https://lichess.org/training/iZrL2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZRz6', 'Classical', 'Narmandakh', 1886, 'iiivad', 1835, 'd4,d5,c4,e6,cxd5,exd5,Bf4,c5,e3,Nc6,Nf3,Nf6,a4,Bg4,h3,Bh5,Nc3,Qa5,Be2,Ne4,Qc2,cxd4,exd4,Bxf3,gxf3,Nxd4,Qd3,Nxe2,Kxe2,Nxc3+,bxc3,Be7,Rhg1,Bf6,Qe3+,Kd7,Rab1,Rhe8,Rxb7+,Kc6,Rc7+,Qxc7,Bxc7,Rxe3+,fxe3,Kxc7,Rd1,Kc6,Kd3,Rb8,Rc1,Rb2,c4,Rb3+,Kd2,dxc4,Rxc4+,Kd6,f4,Rb2+,Kd3,Rh2,e4,Rxh3+,Ke2,Rc3', 'e5+,Kd7,Rxc3', 'https://lichess.org/training/IZRz6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IzSFL', 'Rapid', 'Nazar1005', 2122, 'SjakkNissen', 2225, 'd4,e6,Nf3,f5,g3,d5,Bg2,Nf6,c4,Bd6,O-O,O-O,Nc3,c6,Qc2,b6,b3,Bb7,Bb2,Qe7,Rfe1,Nbd7,Nd2,Rac8,cxd5,exd5,a3,Ne4,f3,Nxg3,hxg3,Bxg3,Red1,Qe3+,Kh1,Rf6,Bh3,Rh6,Qxf5,Rf8,Qxd7,Bc8,Nf1,Qf2,Nxg3,Qxg3,Rg1', 'Rxh3+,Qxh3,Qxh3#', 'https://lichess.org/training/IzSFL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('izSGt', 'Blitz', 'don1roli', 1882, 'Truxchess', 1919, 'f4,g6,Nf3,Bg7,e4,c5,c3,Nc6,Na3,d6,Nc2,Bg4,Be2,Bxf3,Bxf3,Nf6,O-O,Qc7,d4,cxd4,cxd4,O-O,e5,dxe5,fxe5,Ne8,Bf4,Qb6,Kh1,Nc7,a3,Ne6,Be3,Qxb2,Rb1,Qc3,Rxb7,Rad8,Bxc6,Qxc6,Rxe7,a5,Qe2,Qe4,Rf3,Nxd4,Nxd4,Rxd4,Rf2,Rd3,Bc5,Qd5,Bd6,Rd1+,Rf1,Rxf1+,Qxf1,Rc8,e6,Qxd6', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/izSGt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('izSu7', 'Rapid', 'HeyCanYou', 1850, 'juanpedrosemur', 1688, 'Nc3,g6,d3,Bg7,g3,d6,e4,Nf6,Bg2,O-O,Nf3,Nbd7,O-O,Ng4,Bd2,Nge5,Rb1,Nxf3+,Bxf3,Ne5,Bg2,Bg4,Qe1,Bf3,Bf4,Bxg2,Kxg2,Qc8,Bxe5,Bxe5,Nd5,Qd7,Qd2,c6,Ne3,d5,exd5,cxd5,Qa5,e6,c4,Bc7,Qc3,Rac8,Qe1,Bb6,cxd5,Bxe3,Qxe3,Qxd5+,Qf3,Qxa2,Qxb7,Rb8,Ra1', 'Qxa1,Rxa1,Rxb7', 'https://lichess.org/training/izSu7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iztci', 'Rapid', 'chamelo1585', 1906, 'FCF3', 1905, 'd4,d5,c4,e6,cxd5,exd5,Nf3,Nf6,a3,c5,dxc5,Bxc5,e3,Nc6,b4,Be7,Bb2,O-O,Be2,a6,O-O,Bf5,Bd3,Ne4,Bxe4,dxe4,Qxd8,Rfxd8,Nd4,Nxd4,Bxd4,Rac8,Nc3', 'Rxd4,exd4,Rxc3', 'https://lichess.org/training/iztci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iztNT', 'Classical', 'Metalolz', 1716, 'Magu_83', 1683, 'e4,e5,Nf3,Nf6,Bc4,d5,exd5,Nxd5,Nxe5,Qg5,O-O,Qxe5,Re1,Qxe1+,Qxe1+,Be6,Bxd5,Be7,Bxe6,fxe6,Qxe6,Nc6,Nc3,Nd4,Qe4,O-O-O,g3,Rhe8,Nd5,Bc5,Qg4+,Kb8,Nf4,g5,Qxg5', 'Nf3+,Kg2,Nxg5', 'https://lichess.org/training/iztNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IztQy', 'Rapid', 'fatmirahmeti10', 2110, 'Knight2k', 2199, 'e4,e5,Nf3,d5,exd5,e4,Nd4,Qxd5,Ne2,Bg4,Nbc3,Qe6,h3,Bh5,g4,Bg6,Nf4,Qe5,Nxg6,fxg6,Bg2,Nf6,Qe2,Nc6,Bxe4,Nd4,Bc6+', 'Nxc6,Qxe5+,Nxe5', 'https://lichess.org/training/IztQy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZubB', 'Rapid', 'moe_shark', 1893, 'lucamex', 1797, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,h3,h6,Nc3,O-O,a3,Bd4,Bd2,a6,Nd5,Nxd5,Bxd5,Ne7,c3,Ba7,Ba2,Ng6,d4,Qf6,d5,Nf4,Bxf4,Qxf4,Qd3,f5,exf5,Bxf5,Qc4,Rac8,Qxf4,exf4,Bb1,Bd7,b4,Bb5,Re1,Rce8,Bg6,Re2,Nd4,Bxd4,cxd4,Rf6,Bh5,Rxe1+,Rxe1,g6,Bf3,Rf7,Re6,Kg7,Be4,g5,Rg6+,Kf8,Rxh6,Re7,Re6,Rxe6,dxe6,Ke7,d5,c6,g3,cxd5,Bxd5,Bc6,Bxc6,bxc6,gxf4,gxf4,h4,Kxe6,Kg2,Kf5,Kf3,d5,Ke2', 'Kg4,h5,Kxh5', 'https://lichess.org/training/IZubB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZUtv', 'Classical', 'Justin1928', 1818, 'kondratei', 1843, 'e4,c5,d4,cxd4,c3,e6,cxd4,Bb4+,Nc3,Nc6,a3,Ba5,b4,Bb6,Nf3,Nf6,Bg5,h6,Bh4,g5,Bg3,Nh5,Bc4,Nxg3,fxg3,Ne7,O-O,Ng6,Kh1,Bc7,d5,O-O,h4,Bxg3,hxg5,hxg5,Qd2,Nf4,Ne2,Kg7,Nxg3,Rh8+,Kg1,e5,Kf2,d6,Nf5+,Bxf5,exf5,g4,Ne1,Qh4+,g3', 'Qh2+,Ke3,Qxg3+', 'https://lichess.org/training/iZUtv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZvpP', 'Classical', 'JoeyGavin', 1707, 'Kjeanggubben', 1776, 'd4,Nf6,c4,c6,Nc3,d5,Bg5,Nbd7,e3,Qa5,a3,Ne4,Nf3,Nxc3,bxc3,Qxc3+,Nd2,h6,Bh4,e6,cxd5,exd5,Be2,Bd6,O-O,O-O,a4,Qa5,Nf3,Qc7,h3,g5,Bg3,Bxg3,fxg3,Qxg3,Bd3,Nf6,Kh1,Bxh3,gxh3,Qxh3+,Nh2,Ng4', 'Qxg4,Qxg4,Nxg4', 'https://lichess.org/training/IZvpP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZw09', 'Rapid', 'Jovic16', 1684, 'Insomnixx', 1698, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,Be3,Qxd4,Bxd4,f6,b3,Bb4+,Bc3,Bxc3+,Nxc3,Ne7,Nd5,Nxd5,exd5,b6,c4,O-O,Bd3,Re8+,Kd2,d6,Rhe1,Bb7,Re4,h6,Rae1,Kf7', 'Rxe8,Rxe8,Bg6+,Kxg6,Rxe8', 'https://lichess.org/training/iZw09');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZwoh', 'Blitz', 'WFM azchess21', 2298, 'WIM strawberry11', 2387, 'd4,d5,c4,e6,Nc3,Be7,cxd5,exd5,Bf4,c6,e3,Bf5,Nf3,Nf6,Bd3,Bxd3,Qxd3,Nbd7,O-O,O-O,Rab1,Re8,b4,a6,a4,Bf8,Ne5,Nxe5,Bxe5,Bd6,f4,Ng4,h3,Nh6,b5,axb5,axb5,f6,Bxd6,Qxd6,bxc6,bxc6,Rfc1,Ra3,Qd2,Nf5,Re1,Ng3,Rb7,h6,Kh2,Nf5,e4,dxe4,Nxe4,Qd8,Qb4,Ra8,Qc4+,Qd5,Qd3,Qxd4,Qc2,Qd5,Nc3,Qd6', 'Rxe8+,Rxe8,Qxf5', 'https://lichess.org/training/iZwoh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZxln', 'Rapid', 'bobchess77', 1882, 'lieslions', 1805, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,f5,d3,f4,d4,exd4,cxd4,Bd7,Bxc6,Bxc6,d5,Bb5,Nc3,Ba6,Bxf4,Ne7,Ng5,Ng6,Ne6,Qe7,Bg5,Qf7,Qf3,Qxf3,gxf3,Kd7,Rc1,Ne5,Kd1,Nxf3,Ne2,Nxg5', 'Rxc7+,Ke8,Nxg5', 'https://lichess.org/training/iZxln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZxPX', 'Classical', 'El-priNCe', 1746, 'W2244L1096', 1821, 'e4,e5,f4,Nc6,Nf3,d6,h3,Nf6,Bc4,Nxe4,d3,Ng3,Rg1,f6,Nc3,Na5,b3,Nxc4,dxc4,Be7,Bb2,exf4,Qd2,g5,O-O-O,Bd7,h4,Bg4,Nh2,Bxd1,Rxd1,Qd7,hxg5,fxg5,Nd5,Rg8,Nxe7,Kxe7,Re1+,Kd8,Bf6+,Kc8,Qd5,Rg6,Re7,Qc6', 'Qe6+,Kb8,Re8+,Qxe8,Qxe8#', 'https://lichess.org/training/iZxPX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZYoX', 'Rapid', 'Vstern', 1965, 'nanoisam', 2086, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Nf3,Bd6,Bg5,Be6,O-O-O,Nd7,Nb5,Ke7,Nxd6,cxd6,Bb5,Nc5,Nd2,a6,Be2,Rhc8,b3,a5,f4,a4,f5,axb3,fxe6,Rxa2,cxb3,Nd3+,Kb1', 'Rb2+,Ka1,Ra8#', 'https://lichess.org/training/iZYoX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('iZzbL', 'Rapid', 'ciovini', 1849, 'MSL1969', 1926, 'e4,c5,c3,d6,Nf3,Nc6,d4,cxd4,cxd4,Nf6,d5,Ne5,Be2,Nxf3+,Bxf3,g6,O-O,Bg7,Nc3,O-O,Be3,a6,h3,Bd7,a4,Rc8,Qb3,Qc7,a5,Ne8,Na4,Qxa5', 'Nb6,Qb5,Qxb5,Bxb5,Nxc8', 'https://lichess.org/training/iZzbL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('IZztx', 'Rapid', 'BeStupid', 1831, 'gmaster007', 1846, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Nfg5+,Kg8,Qh5,Qe7,Ng3,g6,Qf3,Qxg5,Qxd5+,Kg7,d4,Qf6,Ne4,Qf7', 'Bh6+,Kxh6,Qxf7', 'https://lichess.org/training/IZztx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J01Oh', 'Blitz', 'NM shantus', 2144, 'Sandi-Andrey', 1883, 'e4,e6,d4,d5,Nc3,Bb4,Ne2,Nf6,a3,Bxc3+,Nxc3,Nxe4,Nxe4,dxe4,f3,exf3,Qxf3,Qxd4,Bd3,Nc6,Be3,Qxb2,O-O,Ne5,Qf4,O-O,Bd4,Nxd3,cxd3,Qb5,Qxc7,b6,Qg3,e5,Bxe5,f6,Bxf6,Rxf6,Rxf6,Qc5+,Kh1,Bb7,Raf1,Bd5,R6f5,Qc6,Qf2,Qd6,Kg1,h6,Qd4,Rd8,Qf4,Qg6,Rf8+,Rxf8,Qxf8+,Kh7,Qf2,Qxd3,Re1,Qxa3', 'Qf5+,Kh8,Qxd5,Qc5+,Qxc5', 'https://lichess.org/training/J01Oh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j02dL', 'Rapid', 'clown_with_a_knife', 1684, 'reda2345', 1620, 'e4,e6,Qf3,b6,h4,Bb7,Bd3,Nf6,b3,h6,Bb2,Be7,Na3,Nc6,Bxf6,Bxf6,c3,Nb4,Nc4,Qe7,Ne2,Nxd3+,Qxd3,b5,Ne3,b4,Nd4,bxc3,dxc3,Qc5,Ng4,Bxd4,cxd4,Qa5+,Kd1,Ba6,Qd2,Qh5,f3,Bb7,Qe3,O-O,Ne5,d6', 'g4,Qg6,Nxg6', 'https://lichess.org/training/j02dL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J06hj', 'Rapid', 'vitalyanokontari', 1916, 'Lecathare31', 1862, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,c5,Bf4,cxd4,Nxd4,Nc6,Bb5,Nxd4,Qxd4,a6,Ba4,b5,Bb3,Bc5,Qd3,O-O,Qg3,Bb7,Bh6,g6,Bxf8,Qxf8,f4,d4,Ne2,Bb4+,c3,dxc3,bxc3,Bc5,h4,Rc8,h5,Qd8,hxg6,fxg6,Bxe6+,Kg7,Qh3,h5,Bxd7,Rc7,e6,Qf6,Qd3,Bxg2,Rg1,Bxg1,Nxg1,Qxf4,Qd4+,Qf6,Qxf6+,Kxf6,Kf2,Bc6,Rd1,Bxd7', 'exd7,Rxd7,Rxd7', 'https://lichess.org/training/J06hj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j07xK', 'Blitz', 'Nikitagrand', 1746, 'PawnBandit', 1785, 'e4,e5,Nf3,f5,exf5,e4,Qe2,Nf6,Ng5,d5,d3,Bxf5,f3,Qe7,fxe4,dxe4,dxe4,Nxe4,Nxe4,Qxe4,Qxe4+,Bxe4,Bb5+,c6,Ba4,Bxg2,Rg1,Be4,Rg3,Bg6,Nc3,Nd7,Bg5,Nf6,Re3+,Kd7,O-O-O+,Kc7,Bf4+,Kb6,Bb3,a6,Na4+,Ka7,Re5,Re8,Be3+,Kb8,Rxe8+,Bxe8', 'Rd8+,Kc7,Bb6#', 'https://lichess.org/training/j07xK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j080l', 'Rapid', 'Majidjun', 1819, 'sinjal', 1777, 'e4,g6,f4,Bg7,Nf3,d6,h3,b6,Bc4,Nf6,d3,Bb7,O-O,Nc6,Ng5,O-O,f5,Na5,fxg6,hxg6,Bxf7+,Rxf7,Nxf7,Kxf7,d4,Qd7,Qd3,Nc6,Qb3+,e6,c3,Rf8,d5,exd5,exd5,Ne5,Bg5,Ke8,Qc2,Bxd5,Re1,Kd8,Na3,Kc8,Rad1,Qc6,Rxe5,dxe5,Qxg6,Ne8,Qxc6,Bxc6,Rd8+,Kb7,Nc4,Bf6,Bxf6,Rxf6,Nxe5,Rd6', 'Nxc6,Kxc6,Rxe8', 'https://lichess.org/training/j080l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j08f1', 'Blitz', 'GM venajalainen', 2775, 'Pushok1987', 2536, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,f4,Qc7,Bf3,Nbd7,O-O,Be7,Be3,Nb6,Bf2,O-O,g4,h6,h4,Nfd7,g5,hxg5,hxg5,d5,e5,Nxe5,fxe5,Qxe5,Bg2,Nc4,Nf3,Qf4,Ne2,Qc7,b3,Ne5,Ned4,Ng4,Bh3,Nxf2,Rxf2,Qg3+,Bg2,e5,Ne2,Qg4,Qxd5,Rd8,Qxe5,Bd6,Qd4,Bc7,Qxg4,Bxg4,Rff1,Bb6+,Kh1,g6,Rad1,Kg7,Rxd8,Rxd8,Kh2,Bc7+,Kg1,Bb6+,Rf2', 'Rd1+,Kh2,Bxf2', 'https://lichess.org/training/j08f1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J0A1M', 'Rapid', 'Mohamad_valinejad20', 1936, 'Roop1998', 1901, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,Nc3,Qa5,d4,Bb4,Bb5+,Bd7,Bxd7+,Nxd7,Bxf4,Bxc3+,bxc3,Qxc3+,Bd2,Qc4,Kf2,f6,Re1+,Kf7,Re3,c6,Rc3,Qd5,Rb3,b6,Be3,Nh6,Kg1,Ng4,Qf1,Nxe3,Rxe3,Rhe8,c4,Qa5,Qd3,Kg8,h3,Qh5,Rae1,Rxe3,Rxe3,Nf8,Nd2,Qd1+,Kh2,Ng6,Qc3,Qa4,a3,Qa6,Re4,Qb7,h4,Rd8,h5,Ne7,Qe3,Nf5', 'Re8+,Kf7,Qe6#', 'https://lichess.org/training/J0A1M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J0Abs', 'Rapid', 'fatchur', 1860, 'Matfiej_1', 1944, 'e4,c5,Bc4,e6,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Bg5,h6,Bxf6,Qxf6,Nc3,Bb4,Ne2,O-O,O-O,Ne5,Bd3,Nxd3,cxd3,Bxc3,bxc3,d5,f3,dxe4,fxe4,Qe7,c4,e5,Ng3,Be6,Qh5,Rfd8,Qxe5,Rxd3,Nf5,Qf8,Rf4,Bxf5,Qxf5,Rad8,Raf1,R8d7,e5,Qe7,Rg4,Rd1,Rf4,Qc5+,Kh1,Rxf1+,Rxf1,Re7,Re1,Qxc4,h3,Qe6,Qd3,Qd7,Qb3,g6,Qe3,Kg7,Qxa7,Qd5,Qa3,Rxe5,Qc3,f6,Qc7+,Qf7,Qc3,Qe7,Rb1,b6,Rxb6,Re1+,Kh2,Re3,Qb4', 'Qe5+,Kg1,Re1+,Qxe1,Qxe1+', 'https://lichess.org/training/J0Abs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J0fYZ', 'Rapid', 'qhjkl', 1784, 'BaranOrnarli', 1758, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,O-O,Bf4,d5,e3,c5,Bd3,Nc6,Qc2,dxc4,Bxc4,cxd4,exd4,a6,Be3,b5,Bb3,Bb7,O-O,Rc8,a3,Be7,Ng5,h6,Nf3,b4,axb4,Bxb4,Ne5,Nxe5,dxe5,Be4,Qe2,Nd5,Nxd5,exd5,Rxa6,Qh4,Qb5,Be7,Ra7,Bg5,Qd7,Bxe3,fxe3,Qg5,Qh3,Rb8,e6,Rxb3,Rfxf7,Rxe3,Rxg7+,Qxg7', 'Rxg7+,Kxg7,Qxe3', 'https://lichess.org/training/J0fYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j0K6f', 'Blitz', 'Lilava', 1817, 'Morenito99', 1833, 'e4,e5,d4,exd4,Nf3,Nc6,Nxd4,Nxd4,Qxd4,Qf6,e5,Qe6,Bc4,Qg6,O-O,b6,Bb5,Bc5,Qd2,c6,Bd3,Qe6,Re1,Ne7,Nc3,O-O,Ne4,Bd4,Ng5,Qd5,Bxh7+,Kh8,Be4,Qxe5,Bh7,Qf6,Qd3,g6,Qh3,Kg7,Bg8', 'Qxf2+,Kh1,Qxe1#', 'https://lichess.org/training/j0K6f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j0KeK', 'Blitz', 'Assou8', 1831, 'oussamafadli', 1848, 'e4,e5,Bc4,Nf6,Nc3,Bc5,d3,h6,h3,O-O,Nf3,a6,O-O,Nc6,a3,d6,b4,Ba7,Be3,Bxe3,fxe3,Be6,Nd5,b5,Bb3,Nb8,Nh4,Nxd5,exd5,Bxh3,Qh5,Bd7,Ng6,fxg6,Qxg6,Rxf1+,Rxf1,c6,Rf7,Qg5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/j0KeK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j0Mko', 'Rapid', 'Maxim75364086273', 1708, 'SuperGnom', 1731, 'Nf3,c6,d4,d5,Nc3,Bg4,h3,Bh5,Bf4,Nd7,Ne5,e6,g4,Bg6,Nxg6,hxg6,Qd2,Ngf6,Bg2,Nb6,O-O-O,Nc4,Qe1,Qb6,b3,Na3,e4,Bb4,f3,Qa5,Bd2,Nxc2', 'Kxc2,Bxc3,Bxc3,Qxa2+,Bb2', 'https://lichess.org/training/j0Mko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j0tGH', 'Blitz', 'guilder', 1609, 'FREE_FIRE_2020', 1607, 'e4,d6,Nf3,c5,c3,Nc6,d4,g6,Bc4,Bg7,Qa4,Bd7,Qb3,e6,Qc2,Na5,Bd3,c4,Be2,b5,O-O,Ne7,Bg5,O-O,Qd2,f6,Bh6,Bxh6,Qxh6,f5,Ng5,Rf7,Nxf7,Kxf7,Qxh7+,Kf6,e5+,dxe5,dxe5+,Kxe5,Qg7+,Kd6,Rd1+,Kc5,Qd4+,Kc6,Bf3+,Kc7,Qd6+,Kc8,Bxa8,Nac6,Bxc6,Nxc6,b3,Na5,b4,Nb7,Qd4,Qe7,Qxa7,Bc6,Na3,Qg5,Qa8+,Kc7,g3,Qg4,Nxb5+,Bxb5,Rd4,Qh3,Rad1,Bc6,Rd7+,Bxd7,Rxd7+,Kxd7,Qxb7+,Ke8,Qc6+,Kf7,Qd7+,Kf6,Qd8+,Kf7,Qc7+,Kf6,Qxc4,Qh5,Qd4+,Kf7,b5,Qg5,b6,Qc1+,Kg2,Qb1,Qd7+,Kf6,b7,Qe4+,Kf1,Qb1+,Kg2,Qe4+,f3,Qe2+,Kh3', 'Qf1+,Kh4,g5+,Kh5,Qh3#', 'https://lichess.org/training/j0tGH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J0UK4', 'Rapid', 'idanrara', 1624, 'crazyguy1', 1635, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Ng5,d5,exd5,Na5,Bb3,Nxb3,axb3,Nxd5,d4,exd4,Qxd4,c6,O-O,f6,Re1+,Be7,Ra4,O-O,Nxh7,Kxh7,Qh4+,Kg8,Rae4,Re8,Bh6,g5,Qh5,Nf4', 'Rxf4,Bf5,Rxf5', 'https://lichess.org/training/J0UK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J0vKL', 'Rapid', 'Konrad1', 1961, 'Nei_Lb', 1911, 'e4,d5,exd5,c6,dxc6,Nxc6,Nc3,e5,g3,Nf6,Bg2,Be7,Nge2,O-O,O-O,Bg4,h3,Be6,b3,Qd7,Kh2,Rad8,d3,Nd4,Bb2,g5,Ne4,Nxe4,Nxd4,Nxg3,Nxe6,Nxf1+,Bxf1,fxe6,Qe2,e4,Rd1,Qc7+,Kh1,Bc5,d4,Bd6,Qxe4,Qe7,Bd3,Rxf2,d5,e5,Rg1,h6,h4,Rdf8', 'Qg6+,Qg7,Qxd6', 'https://lichess.org/training/J0vKL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J0vXx', 'Rapid', 'haticeezen', 938, 'boarman36', 894, 'e4,e6,d4,Nf6,Be2,Nxe4,Nf3,c5,dxc5,d5,O-O,Bxc5,Bb5+,Kf8,Qe1,Qb6,Qd1,Nxf2,Rxf2,Bxf2+,Kf1,a6,Ba4,Bd7,Bxd7,Nxd7,Nc3,d4,Na4,Qb5+,Kxf2,Qxa4,Nxd4,Rc8,b3,Qa5,Bd2,Qc5,Be3,Rc6', 'Nxe6+,Rxe6,Bxc5+', 'https://lichess.org/training/J0vXx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j0W5u', 'Rapid', 'Medice', 1608, 'Andreas-Hoppe', 1609, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bg5,c6,Bd3,O-O,Nf5,Bxf5,exf5,Nbd7,O-O,Ne5,Bxf6,Bxf6,Be4,d5,Bf3,Nxf3+,Qxf3,Qd7,Ne2,Bxb2,Rab1,Bf6,Ng3,b6,Nh5,Bg5,Qg4,Bh6', 'Nf6+,Kh8,Nxd7', 'https://lichess.org/training/j0W5u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J0WOq', 'Classical', 'rakhman-2009', 1872, 'tatarstyle', 1763, 'd4,e6,c4,Nc6,Nc3,Bb4,Qb3,a5,a3,Bxc3+,Qxc3,Nf6,Nf3,Ne4,Qd3,d5,e3,O-O,Be2,dxc4,Qxe4,Qf6,O-O,Re8,Bd2,h6,h4,e5,d5,Nb8,Bxc4', 'Bf5,Qxe5,Rxe5', 'https://lichess.org/training/J0WOq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j0YIw', 'Blitz', 'alidashti2019', 1593, 'BilgeKagan71', 1594, 'e4,e6,Nf3,d5,exd5,exd5,Be2,Nf6,O-O,Be7,Re1,O-O,d4,Bf5,Ne5,Re8,Nc3,Bd6,Bf4,Bxe5,Bxe5,Nc6,Bxf6,Qxf6,Nxd5,Qg6,Nxc7,Be4,f3,Bxc2,Qc1,Rac8,Nxe8,Rxe8,Qd2,Bf5,d5,Rd8,Qc3,Ne7,Qc7,Re8,Bb5,Bh3,g3,Qf6,Bxe8,Qd4+,Kh1,Qf2,Rg1', 'Qxf3+,Rg2,Qxg2#', 'https://lichess.org/training/j0YIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J0zsA', 'Rapid', 'OldMillenial', 1704, 'Fantomax', 1761, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,b3,Nge7,Be2,Nf5,O-O,cxd4,cxd4,Bd7,Nc3,Ncxd4,Nxd4,Nxd4,Na4,Nxe2+,Qxe2,Bxa4,bxa4,Be7,Qb5+,Qxb5,axb5,O-O,a4,b6,Be3,Rac8,a5,Bc5,axb6,Bxe3,fxe3,axb6,Ra6,Rb8,Rc1,h6,Rc6,Rfd8,Raxb6,Rxb6,Rxb6,Kh7,Rd6,Rb8,b6,Kg6,Kf2,h5,Kf3,Kf5,Rd7,Kg6,Rd6,Kf5,Rd7,Kg6,b7,f6,e4,dxe4+,Kxe4,f5+,Kd4,f4,Kc5,Kf5,Kc6,Kxe5,Rxg7,Ke4,Rc7,Rxb7,Kxb7,e5,Rc3,Kd4,Ra3,e4,Rh3', 'e3,Rh4,e2', 'https://lichess.org/training/J0zsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J13gz', 'Rapid', 'FalconDeLaVega', 1644, 'Futbol4soul', 1652, 'Nf3,d5,c4,c6,d4,Bg4,Bf4,e6,e3,c5,Qa4+,Nc6,Ne5,Bf5,Nxc6,bxc6,Qxc6+,Ke7,Qxc5+,Kf6,Be5+,Kg6,Qb5,a6,Qb3,f6,Bf4,Ne7,Bd3,Rb8,Qc2,Rc8,Bxf5+,Nxf5,g4,Rxc4,gxf5+,exf5,Rg1+,Kf7,Qxf5', 'Rc1+,Ke2,Rxg1', 'https://lichess.org/training/J13gz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J14n5', 'Classical', 'PaleFire', 1631, 'jaster7474', 1632, 'd4,Nf6,c4,g6,f3,Bg7,e4,d6,Ne2,O-O,Ng3,e5,d5,c6,Bg5,h6,Be3,Nh5,Nxh5,gxh5,Be2,Qh4+,Bf2,Qg5,O-O,Bh3,Bg3,h4,gxh3,hxg3,Qe1,gxh2+,Kxh2,Qf4+,Qg3,Qxg3+,Kxg3,Bf6,Rc1,c5,Rg1,Kh7,f4,Nd7,f5,Rg8+,Kf2,Rxg1,Kxg1,Rg8+,Kh2,Bh4,Bg4,Nf6,Bf3,Bg3+,Kh1,h5,Nd2,h4,Rg1,Kh6,Nf1,Bf4,Rxg8,Nxg8,Nh2,Bc1,Ng4+,Kg5,b3,Kf4,Kg2,f6,Nf2,Ke3,Ng4+,Kd4,Kf2,Kc3,Ke1,Bf4,Bd1,Kb2,a4,a5,Ke2,Kc3,Nf2,Ne7,Ng4,Bg5,Nh2,Ng8,Nf3,Nh6,Nxg5,fxg5,Ke3,b6,Ke2,Kd4,Kf3,Ng8', 'Kg4,Nf6+,Kxg5', 'https://lichess.org/training/J14n5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j18RH', 'Rapid', 'wazham', 1703, 'WhiteKnight8x8', 1873, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nc6,Nf3,Bg4,Be2,Bb4,Bd2,Nge7,a3,Bd6,O-O,f6,Nh4,Bxe2,Qxe2,Qd7,Rfe1,O-O-O,Nb5,g5,Nxd6+,Qxd6,Nf3,g4,Nh4,h5,b4,Nxd4,Qxe7,Nxc2,Qxd6,Rxd6,Bf4,Rdd8,Rec1,Nxa1,Rxa1,Rde8,Rc1,c6,b5,Kd7,bxc6+,bxc6,Rb1,Re4,Bg3,Rhe8,f3,Re3,Rb7+,Ke6,Kf2,Rxa3,Rc7,Ra2+,Ke1,Rb8,Rxc6+,Kd7,Rd6+,Ke7,Nf5+,Kf7,Rd7+,Ke8', 'Re7+,Kf8,Bxb8', 'https://lichess.org/training/j18RH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1Bab', 'Blitz', 'ecnky', 1892, 'bertinhogago', 1900, 'd4,e6,c4,b6,Nc3,Ba6,e3,Nf6,Nf3,Bb4,a3,Bxc3+,bxc3,Ne4,Qc2,d5,cxd5,Bxf1,Rxf1,exd5,c4,O-O,cxd5,Qxd5,Bb2,Qa5+,Kd1,Re8,Ne5,Nd6,Qxc7,Qa4+,Ke2,Ne4,Qxf7+,Kh8,Rac1,Na6,Rc4,Qb5,Ba1,Rxe5,dxe5,Rd8,Rd1,Rg8,Ke1,Nac5,e6,Qxc4,Bxg7+,Rxg7', 'Rd8+,Rg8,Rxg8#', 'https://lichess.org/training/J1Bab');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1CNm', 'Rapid', 'zephry', 1778, 'Donio', 1773, 'd4,Nf6,e3,e6,c4,c5,a3,b6,Bd3,Bb7,Nf3,d5,Nbd2,dxc4,Bxc4,Nbd7,O-O,Qc7,b3,Bd6,Bb2,Bxf3,Nxf3,cxd4,Bxd4,O-O,Rc1,Rac8,Qd2,Qb8,Ba6,Rxc1,Rxc1,Bxa3,Rb1,Bd6,Bd3,Nc5,b4,Nxd3,Qxd3,Nd5,e4,Nxb4,Qc4,Rc8,Qb5,f6,g3,e5,Be3,Nc6,Rc1,Qb7', 'Qd5+,Kf8,Qxd6+', 'https://lichess.org/training/J1CNm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1ef4', 'Rapid', 'tutamon', 1707, 'Mikel_1964', 1897, 'e3,Nf6,d4,d5,Bd3,a6,Nf3,Nc6,c4,e6,Nc3,Bb4,Bd2,Bxc3,bxc3,Ne4,h3,O-O,O-O,h6,Nh2,e5,f3,Ng3,f4,e4,Be2,Na5,Qe1,Nxe2+,Qxe2,Nxc4,Rab1,b6,f5,Qg5,g4,f6,Qf2,Bd7', 'h4,Qxh4,Qxh4', 'https://lichess.org/training/J1ef4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1Ivw', 'Rapid', 'ghalvash4030', 1805, 'rick0809', 1826, 'c4,Nf6,Nf3,g6,Nc3,c6,e4,d6,d4,Bg7,Be2,O-O,O-O,e5,d5,Nh5,Re1,Nf4,Bf1,Na6,Be3,Bg4,h3,Bd7,Kh2,Nh5,Bg5,f6,Bh4,Bh6,Bg3,g5,dxc6,Bxc6,Nd5,Nc5,b4,Ne6,Nxg5,Bxg5,Qxh5,Be8,Qg4,Ng7,h4,Bh5,Qh3,Bh6,Be2,Be8,Bg4,Bf7,Rad1,Re8,Bd7,Kh8,Kg1,Rf8,c5,dxc5,bxc5,Qa5,Nxf6,Qxc5,Ng4,Bf4,Bxf4,exf4,e5,Nh5,Nh6,Bxa2,Be6,Qc2,Nf7+,Rxf7,Bxf7,Bxf7,e6,Bg6,e7,Re8,Rd8,Nf6,Qe6,Qc3,Rxe8+,Nxe8,Rd1,f3,gxf3,Qxf3,Rd8,Qc3,Rc8,Qd4,Rd8,Qxh4,Qe5+,Kg8,Rd4,Qh6,Rf4,Bf7,Rg4+,Bg6,Qe6+,Kh8,f4,Qg7,f5,Qa1+,Kh2,Qb2+', 'Rg2,Qd4,fxg6', 'https://lichess.org/training/J1Ivw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1j1Y', 'Rapid', 'tornikeM', 1722, 'Sidewinderr', 1718, 'Nf3,d5,e4,dxe4,Ng5,Bf5,Nc3,Nf6,Qe2,e6,Qb5+,Nc6,Qxb7,Nd4,Bb5+,Nd7,Bxd7+,Kxd7,Nxf7,Rb8,Qa6,Qh4,Qa4+,Nc6,Nxh8,Bc5,O-O,Rxh8,Ne2,Rf8,Ng3,Bg6,d3,Rxf2,Rxf2,Bxf2+,Kxf2,Qxh2,dxe4,h5,e5,h4,Nf1,Qh1,Qf4,h3,Qh2,hxg2,Qxg2,Qh4+,Kg1,Nxe5,Bg5,Qd4+,Be3,Qxb2,Rd1+,Ke8,Qa8+,Kf7,Bd4,Nf3+,Kg2,Nxd4,Rxd4,Qxc2+,Rd2', 'Be4+,Qxe4,Qxe4+', 'https://lichess.org/training/J1j1Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1kw7', 'Classical', 'PawnstarIntheKnight', 1683, 'DRK123', 1672, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,Bd7,Bd3,Bd6,Bxd6,cxd6,Nc3,Nc6,Qd2,a6,O-O-O,b5,e4,O-O,e5,dxe5,dxe5,Ne8,g4,f6,exf6,Qxf6,Ng5,g6,h4,Ne5,h5,Nxd3+,cxd3,Qxf2,hxg6,Qxd2+,Rxd2,hxg6,Rdh2,Nf6,Nh7,Nxh7,Rxh7,Bc6,g5,Rf7', 'Rh8+,Kg7,R1h7#', 'https://lichess.org/training/J1kw7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1KXu', 'Rapid', 'aristokleev76', 2219, 'Morozov', 2259, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Qd4,Nf6,e5,Nd5,Bc4,Nb6,Bb3,Bg7,O-O,O-O,Nc3,d6,f4,c5,Qe4,Bf5,Qe2,d5,g4,Bd7,Nxd5,c4,Nxb6', 'Qxb6+,Rf2,cxb3', 'https://lichess.org/training/J1KXu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1KZH', 'Rapid', 'thinksmart', 1964, 'pohn', 1825, 'e4,e6,d4,d5,Nc3,c5,Nf3,cxd4,Nxd4,e5,Nf3,d4,Nd5,Nc6,Bd3,Be6,c4,f6,O-O,Bd6,Bd2,Nge7,a3,Rc8,b4,O-O,Rc1,b6,Qa4,Bb8,b5,Na5,Bb4,Rf7,Nxe7+,Rxe7,Bxe7,Qxe7,c5,Bc7,c6,Bb3,Qb4,Bd6,Qd2,Rc7,a4,Bxa4,Bc4+', 'Nxc4,Rxc4,Bxb5', 'https://lichess.org/training/J1KZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1QXK', 'Rapid', 'krobbi', 1671, 'Cassio_Ribeiro', 1610, 'e4,e5,Nf3,Nc6,d4,f6,dxe5,fxe5,Bb5,a6,Bxc6,bxc6,Nxe5,Qe7,Qd4,Nf6,Nc3', 'c5,Qd3,Qxe5', 'https://lichess.org/training/J1QXK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1rMb', 'Rapid', 'rsandzimier', 1717, 'ashot7010', 1743, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Qe7,Qxd4,Nc6,Qd3,Nxe4,O-O,Nc5,Qd5,Qd6,Re1+,Ne7,Qxf7+,Kd8,Bg5,h6,Bxe7+,Bxe7,Qxg7', 'Bf6,Qg6,Bxb2,Qxd6,cxd6', 'https://lichess.org/training/J1rMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1rOz', 'Rapid', 'GUTOPHILIPP', 1736, 'yilmzonurr', 1688, 'e4,e5,Bc4,Nc6,Nf3,h6,Nxe5,Nxe5,Bxf7+,Nxf7,d3,Bc5,Nc3,Ne7,Be3,Bxe3,fxe3,O-O,O-O,d6,Ne2,Bg4,Qd2,c5,Nf4,Nc6,h3,Bd7,Rf3,Nfe5,Rg3,Qf6,Nd5,Qh4,Qe1,Qh5,Nf4,Qh4', 'Rxg7+,Kxg7,Qxh4', 'https://lichess.org/training/J1rOz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J1UA0', 'Rapid', 'stalemate20', 1961, 'kaplannnn', 1978, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,Nc3,Be7,Nxe4,O-O,Nxf6+,Bxf6,d4,Qxd5,Qc4,Re8+,Be3,Qa5+,c3,Be6,Qb5,Qxb5,Bxb5,Nc6,O-O,a6,Bxc6,bxc6,Ne5,Bxe5,dxe5,Bd5,Bf4,Re6,Bg3,Rb8,b3,c5,c4,Bc6,f4,h5,Bf2,Rg6,g3,h4,Rfe1,hxg3,hxg3,Kh7,Rad1,Rg4,Kh2,Kg6,Bxc5', 'Rh8+,Kg1,Rxg3+', 'https://lichess.org/training/J1UA0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j1Xqy', 'Rapid', 'GodunoVVasiliy', 2174, 'HaroonChohan59', 2091, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,g3,c6,Bg2,e6,e3,g6,Nge2,Bg7,O-O,O-O,d4,Na6,e4,Ne7,d5,exd5,exd5,Bg4,Qd3,Bf5,Qc4,b5,Qb3,b4,Ne4,cxd5,Nd2,Qd6,Nf3,Rac8,Bf4,Qb6,Bg5,Bc2,Qe3,Qxe3,Bxe3,Bxb2,Rae1,Nc5,Bh3,Bf5,g4,Be4,Nfd4,Nd3,Rb1,Bxd4,Bxd4,Rc2,Ng3,Nf4,Nxe4,dxe4,Bg2,Ne2+,Kh1,Nxd4,Rxb4,Nec6,Ra4,Re8,h4,f5,gxf5,gxf5,h5,f4,Bh3,Kg7,Rd1,Rxf2,Ra6,Re7,h6+,Kf7,Bg4,e3,Bh5+,Kf8,Rxd4,Nxd4,Rd6,e2', 'Rd8+,Re8,Rxe8#', 'https://lichess.org/training/j1Xqy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j1xTM', 'Classical', 'bully-rook', 2035, 'jfaulkner', 2002, 'd4,g6,e4,Bg7,Nc3,c5,dxc5,Bxc3+,bxc3,Nc6,Nf3,Qa5,Bb2,Qxc5,Bd3,Nf6,c4', 'Qb4+,Qd2,Qxb2', 'https://lichess.org/training/j1xTM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J25gJ', 'Rapid', 'ConstantinX', 1778, 'letterss', 1800, 'e4,c5,f4,Nc6,c3,Nf6,d3,e6,Nf3,d5,e5,Nd7,Be3,f6,Qa4,fxe5,Nbd2,exf4,Qxf4,Nf6,Nb3,Bd6,Qg5,Qe7,O-O-O,O-O,h4,h6,Qg6,Bd7,d4,Be8,Qc2,cxd4,Nfxd4,Ne4,Bd3,Nxd4,Nxd4,Bg6,Nf3,Rac8,h5,Bh7,Rhf1,Bb4,Kb1,d4,Bxd4,Nxc3+,bxc3,Bxd3,Rxd3,b6,Rc1,Ba3,Ne5,Bxc1,Ng6,Qg5,Nxf8,Rxf8,Qxc1,Qxg2,Rd1,e5,Bxe5,Rf2,c4', 'Qe4+,Ka1,Qxe5+', 'https://lichess.org/training/J25gJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J26xF', 'Rapid', 'antystas', 1778, 'GEDIMASS', 1802, 'e4,e5,Nf3,Nc6,Bc4,h6,h3,Nf6,d3,d6,Nc3,Be7,Be3,O-O,Qd2,Na5,Bb3,Be6,g4,Bxb3,axb3,Nc6,g5,hxg5,Nxg5,Nh7,Rg1,Nxg5,Bxg5,Bxg5,Rxg5,Nd4,O-O-O', 'Nf3,Rxg7+,Kxg7', 'https://lichess.org/training/J26xF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j28Rz', 'Rapid', 'abbas62', 1921, 'CJ_The_Great', 2021, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,Be3,Be7,Qd2,O-O,h4,Ng4,f3,Nxe3,Qxe3,b5,h5,e5,Nf5,Bg5,Qf2,Be6,Ne2,Nd7,Qg3,h6,Nxd6,Qa5+,c3,Qb6,Nf5,Bxf5,exf5,Rad8,Rd1,Nc5,Bc2,Rxd1+,Bxd1,Rd8,f4,exf4,Nxf4,Bxf4,Qf3,Nd3+,Kf1,Nf2,Bc2,Nxh1,Qxf4,Rd2,Qxd2', 'Ng3+,Ke1,Qg1#', 'https://lichess.org/training/j28Rz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2Crz', 'Rapid', 'alexbabal', 2095, 'Exiome', 1921, 'e4,c5,Nc3,Nc6,f4,e6,Bb5,d5,Bxc6+,bxc6,d3,d4,Nce2,Bd6,Nf3,Ne7,O-O,O-O,c3,Ng6,e5,Bc7,cxd4,cxd4,Nexd4,Bb6,Qa4,c5,Nb5,Bd7,Qc4,Bxb5,Qxb5,c4+,d4,Bxd4+,Nxd4,Qxd4+,Kh1,a6,Qa4,Rfd8,Qa3,Nh4,Be3,Qd3,Qxd3,cxd3,Rfd1,Nf5,Bf2,Rac8,Rd2,Rc2,Rad1,Rxd2,Rxd2,f6,exf6,gxf6,g4,Nh6,h3,e5,g5,fxg5,fxe5,Nf5,Kg2,Kf7,Kf3,Ke6,Ke4,Rd5,Rxd3,Rxe5+,Kf3,Rb5,b3,h5,Rc3,Kd5,Rc8,Nd4+,Ke3,Ne6,Rh8,h4,Kd2,Ke4,Be3,Rd5+,Ke2,Kf5,Re8,Re5,Kf3', 'Nd4+,Bxd4,Rxe8', 'https://lichess.org/training/j2Crz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J2DhN', 'Rapid', 'senia44', 1888, 'boogieman2', 1790, 'Nf3,c5,d4,cxd4,Nxd4,Nf6,c3,e6,e3,a6,Qf3,d6,e4,Nbd7,Bg5,Qc7,Bd3,Be7,O-O,b5,Bxf6,Nxf6,Qe2,Bb7,f3,Rc8,Kh1,O-O,Nd2,Qc5,N4b3,Qc7,Bb1,Nd7,Qd3,g6,Qe3,Nc5,Nxc5,Qxc5,Qh6,Bf6,Nb3,Qc4,Rg1,Bg7,Qf4,d5,Na5,Qc7,Qxc7,Rxc7,Nxb7,Rxb7,exd5,exd5,Bc2,d4,cxd4,Bxd4,Rgd1,Bxb2,Rab1,Bg7,Rd6,a5,Ra6,Rc8,Be4,Rbc7,h3,Bc3,Rxb5,Bb4,Rd5,Rc6', 'Rxc6,Rxc6,Rd8+,Kg7,Bxc6', 'https://lichess.org/training/J2DhN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2eKz', 'Classical', 'Magrinya', 2031, 'Gattino66', 1924, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,e3,e6,Be2,Bd6,O-O,Ne4,cxd5,exd5,h3,O-O,Bd2,Re8,Rc1,Bc7,a3,Qd6,Nxe4,Bxe4,Ne5,Qf6,f4,Re7,Bf3,Bxf3,Qxf3,Nd7,Qg4,Nxe5,fxe5,Qe6,Qg5,Bd8,Rf2,Rc7,Qg3,b6,Rcf1,c5,Rf6,Bxf6', 'exf6,g6,Qxc7', 'https://lichess.org/training/j2eKz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J2FdC', 'Rapid', 'Njavwa_97', 1864, 'fy_n', 1878, 'e4,Nf6,e5,Nd5,d4,Nb6,Nf3,e6,Bd3,c5,c3,cxd4,cxd4,d5,O-O,Nc6,Be3,Be7,Nc3,Bd7,Bb5,O-O,Bd3,f6,Qc2,g6,Bxg6,hxg6,Qxg6+,Kh8,Nh4,Be8', 'Qh6+,Kg8,Ng6,Bxg6,Qxg6+', 'https://lichess.org/training/J2FdC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J2fWM', 'Rapid', 'Inlands', 1680, 'matrixking', 1612, 'c4,a5,e3,c5,a3,d6,Nc3,Bd7,Nf3,e6,Be2,Nf6,O-O,Be7,d4,cxd4,Nxd4,Nc6,Bd2,O-O,Qc2,Rc8,Ne4,Nxe4,Qxe4,d5,cxd5,exd5,Qd3,Nxd4,Qxd4,Bf6,Qxd5,Bxb2,Rab1,Bxa3,Rxb7,Bc6,Qxd8,Rfxd8,Rb3,Rxd2,Ba6,Ra8,Rxa3,Rxa6,Rb1,Rb6,Rc1,Rc2,Rd1,g6,h3,Kg7,Rxa5,Rbb2,Ra6,Bb5,Rb6,Bc6,Rb1,Rxb1+,Rxb1,Bd5,Rb5,Be6,Ra5,Rc1+,Kh2,Rc2,Kg3,Rc4,Ra6,Rc5,Kf4,Rf5+,Kg3,Bd5,f3,Rg5+,Kf2,Be6,e4,h5,Ra4,Rc5,Rd4,h4,Rd2,Rc3,Rb2,Kh6,Rd2,Kg5,Rb2,Kf4,Rd2,Re3,Rd4,Bb3', 'e5+,Kxe5,Kxe3', 'https://lichess.org/training/J2fWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J2lnN', 'Blitz', 'INDI7', 2215, 'SanderHyeEhmsen', 2199, 'd4,d5,c4,c6,Nf3,e6,Nc3,Nf6,Bg5,Nbd7,cxd5,exd5,e3,Bd6,Bd3,O-O,Qc2,h6,Bh4,Re8,O-O-O,Qa5,g4,Nxg4,Rhg1,Ndf6,h3,g5,Nxg5,hxg5,Bxg5,Kf8,hxg4,Nxg4,Bf5,Nh2,Bxc8,Rexc8,Qf5,Ba3,Bh6+,Ke7,Qe5+,Kd7,Rg7', 'Qxc3+,Kb1,Qxb2#', 'https://lichess.org/training/J2lnN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J2MhC', 'Blitz', 'nahumd', 1599, 's716', 1690, 'e4,e5,f4,exf4,Nf3,Bc5,d4,Bb6,Bxf4,a5,Bc4,Ne7,O-O,O-O,Ng5,c6,Qh5,h6,Nxf7,Bxd4+,Kh1,Rxf7,Qxf7+,Kh8,c3,d5,Bb3,Bf6,Bxh6,Nd7,Rxf6,Qg8,Qxe7,Nxf6,exd5,cxd5,Bg5,Be6,Qxb7,Re8,Na3,Ne4,Bf4,Rf8,Be3,Qh7,Bxd5,Ng3+,Kg1,Ne2+,Kh1,Qd3,Bxe6,Qxe3,Qe7,Qf4,Re1', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/J2MhC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2mlC', 'Rapid', 'AWRA', 1882, 'Kamal-Kant-Gandhi', 1869, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Nc6,O-O,Nf6,Bb5,Qd6,d4,Bd7,Bc4,O-O-O,a4,Be6,d5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,Qe1,Bd6,Bd2,Qc5+,Kh1,Qxc2,Ng5,Rde8,Qf2,f6,Nf7,Rhf8,Nxd6+,cxd6,Qxf4,Re2', 'Qg4+,Kb8,Qxe2', 'https://lichess.org/training/j2mlC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2nm6', 'Blitz', 'Adermo', 2154, 'SUDORyBARRO5', 2018, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,Be7,Be3,O-O,Nf3,a6,cxd5,Nxd5,Bd3,b5,O-O,Bb7,a3,Nd7,Bc2,N7f6,Qd3,Re8,Bg5,h6,Bh4,Nf4,Qd2,Bd6,Rad1,Bxf3,gxf3,g5,Bg3,Qd7,Kh1,Qh3,Rg1,Qh5,Bxf4,Qxf3+,Rg2,Bxf4,Qd3,Qh5,Qf5,Kg7,Qxf4', 'Qxd1+,Bxd1,Re1+,Rg1,Rxg1+,Kxg1,gxf4', 'https://lichess.org/training/j2nm6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2NQz', 'Rapid', 'MelnikovAnton', 2129, 'Teketek1', 2003, 'e4,e5,Nc3,Nf6,Nf3,Nc6,d4,Bb4,Nxe5,Nxe5,dxe5,Nxe4,Qd4,Bxc3+,bxc3,Qh4,g3,c5,Qc4,b5,Qd5,Qg4,Be2', 'Qxe2+,Kxe2,Nxc3+,Kd3,Nxd5', 'https://lichess.org/training/j2NQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2ofw', 'Classical', 'swedendodo', 1951, 'HMohamed710', 1843, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,e6,Nc3,Nge7,g3,O-O,Bg2,Qa5,O-O,Qb4,Nxc6,Nxc6,Qb3,a5,Qxb4,Nxb4,Rfd1,Nc2,Rac1,Nxe3,fxe3,b6,b3,Bb7,Nb5,Rad8,Nd6,Ba8,Nb5,Bh6,Kf2,f5,exf5', 'Rxf5+,Kg1,Bxe3+', 'https://lichess.org/training/j2ofw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J2pd1', 'Rapid', 'TheObelisk', 1795, 'koznazna', 1626, 'e4,d5,exd5,Qxd5,c4,Qe5+,Qe2,Nc6,Nf3,Qxe2+,Bxe2,e6,a3,Nf6,b4,b6,O-O,Bb7,d4,Rd8,Bb2,Ne4,Rd1,Be7,Nbd2,Nxd2,Rxd2,O-O,Rad1,Bf6,d5,exd5,Bxf6,gxf6,cxd5,Ne5,Ne1,Rfe8,h4,Ng6,h5,Nf4,Bf3,Re5,Nd3,Nxd3,Rxd3,f5,d6,Bxf3', 'dxc7,Rc8,Rd8+', 'https://lichess.org/training/J2pd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2PeI', 'Rapid', 'JoaoJ', 1712, 'bouthomas', 1693, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,Nc3,e6,O-O,Be7,Nf3,O-O,Bg5,h6,Bh4,Nh5,Bxe7,Qxe7,Re1,e5,Nd5,Qd8,c4,Ndf6,Nh4,Nxd5,cxd5,Qxh4,Re3,Rac8,Rh3,Qg5,Rxh5,Qe7,Qg4,Rc7,Rxh6,Rfc8,h3,Rc1+,Rxc1,Rxc1+,Kh2,Rc2,b3,Rxa2', 'Qc8+,Qf8,Rh8+,Kxh8,Qxf8+', 'https://lichess.org/training/j2PeI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2Qdr', 'Classical', 'anonymousKVB', 1627, 'youness1982', 1640, 'e4,e6,d3,c6,Nc3,h6,Nf3,Qb6,Rb1,d6,Be3,c5,Be2,Bd7,O-O,Qc7,d4,cxd4,Bxd4,Nc6,Bb5,Qc8,Bxc6,Bxc6,Nd2,e5,Be3,Nf6,f4,Be7,fxe5,dxe5,Nf3,Ng4,Bd2,Bc5+,Kh1,Nf2+,Rxf2,Bxf2,Nxe5,Bd4,Nc4,O-O,Qf3,Bxc3,Bxc3,Qe6,Qg3,g6,Ne5,Rae8,Ng4,h5', 'Nf6+,Qxf6,Bxf6', 'https://lichess.org/training/j2Qdr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J2rug', 'Classical', 'MarkyMark859', 1747, 'PauloMendes71', 1884, 'd4,e6,Bf4,f5,Nd2,d5,e4,c6,exd5,exd5,Bd3,Nf6,Qe2+,Be7,O-O-O,O-O,Re1,Re8,Bg5,Bb4,Qd1,Rxe1,Qxe1,Bxd2+,Qxd2,Qd6,Ne2,Na6,h4,Nb4,Bxf6,Nxd3+,Qxd3,Qxf6,Ng3,Bd7,Nh5', 'Qh6+,Nf4,Qxf4+', 'https://lichess.org/training/J2rug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2Ufr', 'Blitz', 'GM Odessacoach', 2652, 'FM jerom5588', 2625, 'd4,g6,Nf3,Bg7,g3,c5,c3,Nf6,Bg2,O-O,O-O,cxd4,cxd4,d5,Nc3,Nc6,Ne5,Bf5,Nxc6,bxc6,Bf4,Nd7,Rc1,Rc8,Qd2,e5,dxe5,Nxe5,Rfd1,Nc4,Qe1,Nxb2,Rd2,Nc4,Rdd1,Qa5,e4,Bg4,f3,Be6,exd5,Bxc3,Qxc3,Qxc3,Rxc3,Bxd5,Bf1,Nb6,Ra3,Rfe8,Rxa7,Bxf3,Rb1,Ra8,Rxa8,Nxa8,a4,c5,a5,Bd5,a6,c4,a7,f6,Rd1,Bf7,Bg2,c3,Rc1,g5,Bb8,Nb6,Rxc3,Re1+,Kf2,Ra1,Rc6,Ra2+,Kf1,Rxg2,Rxb6,Ra2,Rxf6,Kg7,Be5,Bc4+,Kg1,Kg8,Rc6,Bd5,Rc8+,Kf7,Bd4,Rg2+,Kf1,Rxh2,Rd8,Bc6,Rd6,Be4,Rf6+,Ke7,Rb6,Ra2,Rb8,h5,Ke1,Kd6,Re8,Kd5,Rd8+,Kc4,Be3,h4', 'Rd4+,Kc3,Rxe4', 'https://lichess.org/training/j2Ufr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2uqD', 'Rapid', 'Dark_abdelhadi', 1876, 'h29091967hamedali', 1798, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,Qe7,O-O,d6,Bf4,Be6,Nd5,Qd7,Nxf6+,gxf6,Qxf6,Rg8,Bxe6,fxe6,Bxh6,Bxh6,Qxh6,O-O-O,Qe3,Qg7,g3,Rh8,Qxa7,Qh7,h4,Rdg8,Qe3,Qxh4,Kg2,Qh3+,Kf3,Qg4+,Kg2,Rf8,f4,Qh3+,Kf2,Qh2+,Ke1,Qg2,Rg1', 'Rh1,Rxh1,Qxh1+,Kd2,Qxa1', 'https://lichess.org/training/j2uqD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2W48', 'Blitz', 'CM Davigator', 2259, 'Dustoftruths', 2306, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qd2,O-O,O-O-O,Nbd7,g4,b5,a3,Nxg4,Bxe7,Qxe7,Rg1,Ngf6,Qg2,g6,e5,dxe5,Qxa8,exd4,Rxd4,e5,Rd2,exf4,Qf3,Qc5,Rgg2,b4,axb4,Qxb4,Rgf2,Nc5,Qxf4,Qa5,Kb1,Be6,Qxf6,Ne4,Qd4', 'Nxc3+,Qxc3,Qa2+,Kc1,Qa1#', 'https://lichess.org/training/j2W48');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j2X9X', 'Blitz', 'Cachucha', 1882, 'malikman', 1852, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,e6,Nf3,Bb4,Bd3,O-O,O-O,Bxc3,bxc3,b6,Bg5,h6,Bh4,g5,Bg3,Nh5,Be5,Bb7,Qc2,f6,Bg3,Nxg3,fxg3,Kg7,g4,Nd7,Qb3,e5,dxe5,Nxe5,Nxe5,fxe5,Rad1,Rxf1+,Bxf1,Qf6,Qc4,c5,Rd7+,Kg6,Rxb7,Rf8,Rd7', 'Qf2+,Kh1,Qxf1+,Qxf1,Rxf1#', 'https://lichess.org/training/j2X9X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J30fB', 'Blitz', 'Dr_AvinashKashyap', 1829, 'Vadym_Mazur', 1842, 'e4,c5,Nf3,d6,Bc4,e6,O-O,a6,a4,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,Be7,Bg5,O-O,Rad1,d5,exd5,exd5,Nxd5,Nxd5,Bxe7,Qxe7,Qxd5,Be6,Qe4,Rfe8,Bxe6,Qxe6,Qxb7,Rac8,Rd7,Rxc2,b4,Rb2,b5,axb5,a5,Qe2,Rxf7', 'Qxf1+,Kxf1,Rb1#', 'https://lichess.org/training/J30fB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j36Ho', 'Rapid', 'BartekPlokarz', 1792, 'osman90', 1802, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb4+,Nbd2,Nge7,Bxf7+,Kxf7,Ng5+,Kf8', 'Qf3+,Nf5,Qxf5+', 'https://lichess.org/training/j36Ho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J3A5v', 'Rapid', 'MessimontanaII', 1778, 'pelo-chakal10', 1812, 'c4,e6,Nc3,Nf6,e4,Nc6,d4,d5,e5,Ne4,Nxe4,dxe4,d5,exd5,cxd5,Bb4+,Bd2,Bxd2+,Qxd2,Nxe5,Ne2,c6,d6,Nc4,Qc3,Nxd6,Rd1,Qf6', 'Qxf6,gxf6,Rxd6', 'https://lichess.org/training/J3A5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j3ebN', 'Rapid', 'rockfish', 1707, 'crackerjak', 1717, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Nf6,d4,d6,O-O,Be6,Bxe6,fxe6,Bg5,Be7,dxe5,dxe5,Bxf6,Bxf6,Rd1,Qe7,Na3,O-O,Nc4,b5,Nd2,c6,Qe2,Rad8,Nb3,Rd7,Rxd7,Qxd7,Rd1,Qe7,Qe3,Rd8,Rxd8+,Qxd8,h3,Bg5,Qe2,Qd6,Qg4,h6,h4,Bf6,g3,Kf7,Qe2,a6,Qd2,Qxd2,Nxd2,Kg6,Nb3,Be7,Kg2,Kf7,Na5,c5,a3,Ke8,Nc6,Bd6,b4,cxb4,cxb4,Kd7,Na5,Bc7,Nb3,Bb6,f3,Kd6,Kh3,h5,g4,g6,gxh5,gxh5,Kg3,Be3,Kg2,Bd4,Nxd4,exd4,Kf2', 'Ke5,Ke2,Kf4', 'https://lichess.org/training/j3ebN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J3ENc', 'Rapid', 'REMIT_01', 2232, 'Grigorev45', 2226, 'e4,c5,f4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qd8,Bc4,e6,O-O,Nf6,d3,Bd6,Qe1,O-O,Ne5,Nd4,Qf2,a6,a4,Qc7,Nf3,b6,Nxd4,cxd4,Ne4', 'Nxe4,dxe4,Qxc4', 'https://lichess.org/training/J3ENc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j3hr7', 'Classical', 'mgchesscom', 1919, 'myposition', 1653, 'd4,d5,c4,dxc4,e4,g6,Nf3,Bg7,Be3,Nf6,Nc3,O-O,Bxc4,Ng4,Bxf7+,Rxf7,Ng5,Nxe3,Nxf7,Nxg2+,Kf1,Qxd4,Kxg2,Qxd1,Rhxd1,Kxf7,Rd8,Be6,f4,Bd7,Rd1,Bc6,Nd5,b6,Nxc7,Bxe4+,Kg3,Nc6,Nxa8,Nxd8,Rxd8,Bxb2,Nc7,Bb1,a4,Bc2,Ra8,a5,Nd5,Be4,Rd8,Bd4,Nxe7,Bf6,Rd6,Bxe7,Rxb6,Bb4,h4,Bc2,Rb7+,Kg8,h5,Bxa4,hxg6,hxg6,Kh4,Bc2,Rc7,Bf5,Kg3,Be1+,Kf3,Kf8,Ke3,Bb4,Kd4,Bd2,Ra7,Bc2,Ke5,a4,Kf6,Bxf4', 'Ra8+,Bb8,Rxb8#', 'https://lichess.org/training/j3hr7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j3JZW', 'Blitz', 'kaelkael09', 1611, 'vompo', 1611, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,Qb3,Nh6,d4,exd4,Bxh6,gxh6,Bxf7+,Kf8,Bh5,Qf6,O-O,dxc3,Nxc3,d6,Rad1,Be6,Nd5,Bxd5,Qxd5,Rg8,Rfe1,Ne5,Nxe5', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/j3JZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j3KaQ', 'Rapid', 'Guilherme_Chess', 1903, 'mohit3008', 1853, 'd4,e6,c4,d5,e3,dxc4,Bxc4,Nc6,Nc3,Nf6,Nf3,Bd6,a3,b6,e4,Be7,Bb5,Bd7,O-O,O-O,e5,Nd5,Bd3,f6,Nxd5,exd5,Qb3,Be6,exf6,Bxf6,Be3,Bg4,Be2,Ne7,h3,Be6,Rac1,Nf5,Ne5,Kh8,Rc6,Bg8,Bd3,Bxe5,Bxf5,Rxf5,dxe5,d4,Qc2,Rxe5,Rd1,Qh4,Bxd4,Re7,Rxc7,Rxc7,Qxc7,Qg5,f4,Qg6,Be5,Be6,Rd8+,Rxd8,Qxd8+,Bg8,Kh2,h5,Qd7,a5,Qd4,Kh7,Bc7,Be6,Qxb6,Qf5,Qxa5,Qf6,Qxh5+,Kg8,Qe5,Qe7,Bd6,Qf7,b4,Bb3,b5,Bd5,b6,Bc6,Qg5,Qd7,Be5,Qf7,g4', 'Qa2+,Kg3,Qg2+,Kh4,Qf2+,Kh5,Be8+,Qg6,Bxg6+', 'https://lichess.org/training/j3KaQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J3laH', 'Rapid', 'HybridMoments', 1653, 'ivrsrm17', 1664, 'c4,g6,g3,Bg7,Bg2,d6,Nc3,Nd7,b3,Rb8,Bb2,Ngf6,Ne4,e5,Nxf6+,Nxf6,e3,O-O,Ne2,b6,O-O,Bb7,d4,Bxg2,Kxg2,e4,Nf4,c6,d5,c5,f3,Re8,Qb1,exf3+,Rxf3,Ne4,Qc2,Qg5,Bxg7,Kxg7,Nh3,Qg4,Qb2+,Re5,Raf1,Rf8', 'Rf4,Qd7,Rxe4', 'https://lichess.org/training/J3laH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j3lBH', 'Rapid', 'Razzuy', 1772, 'naufal_07', 1764, 'd4,Nf6,Bf4,e6,Nf3,c5,e3,Nc6,c3,cxd4,exd4,d5,Ne5,Nxe5,Bxe5,Bd6,f4,Bxe5,fxe5,Ne4,Bd3', 'Qh4+,g3,Nxg3,hxg3,Qxh1+', 'https://lichess.org/training/j3lBH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j3OTg', 'Blitz', 'reinfield14', 1719, 'CeiQual', 1669, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,Qd2,Be7,Bd3,O-O,f3,Nc6,g4,b5,g5,b4,gxf6,bxc3,Qxc3,Bxf6,Qxc6,Bh4+,Bf2,Bxf2+,Kxf2,Qh4+,Ke2,Bh3,Qxd6,Bg2,Qxe5,Qh3,Rhg1,Qxf3+,Kd2,Qf2+,Kc3,Rac8+,Kb4,Rb8+,Ka5', 'Qb6+,Ka4,Qb4#', 'https://lichess.org/training/j3OTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J3pM2', 'Rapid', 'UkrytaOsoba', 2209, 'anand888', 2075, 'd4,d5,Nf3,Nc6,Bg5,Bg4,e3,Qd7,Be2,f6,Bh4,g5,Bg3,h5,h3,Bf5,a3,g4,Ng1,O-O-O,Nc3,h4,Bf4,e5,Bh2,gxh3,Nxh3,Bxh3,gxh3,exd4,exd4,Re8,Qd2,Qxh3,O-O-O,Bh6,Bf4,Bxf4', 'Qxf4,Qd7,Bg4', 'https://lichess.org/training/J3pM2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j3pSI', 'Rapid', 'paulychromatic', 1671, 'Miozinho', 1663, 'd4,d5,Nc3,e6,a3,Nc6,e4,Be7,e5,g6,Nf3,Na5,b4,Nc4,Bxc4,dxc4,Qe2,c6,Qxc4,Bf8,Bg5,Be7,Bxe7,Nxe7,Rd1,O-O,O-O,b5,Qe2,Nf5,Ne4,f6,c4,fxe5,dxe5,Qe7,cxb5,cxb5,Qxb5,a6,Qc6,Bb7,Qc5', 'Bxe4,Qxe7,Nxe7', 'https://lichess.org/training/j3pSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J3QpV', 'Rapid', 'olegtambov', 1635, 'beselvan', 1644, 'e4,d5,Nf3,dxe4,Ng5,Nh6,Nxe4,e5,d3,Nf5,g4,Nd4,c3,Ndc6,Na3,Bxa3,bxa3,Qh4,Bg5,Qxg4,Qxg4,Bxg4,h3,Bf3,Rg1,h6,Be3,Rg8', 'Nf6+,gxf6,Rxg8+', 'https://lichess.org/training/J3QpV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j3SM0', 'Rapid', 'Utsav8624', 1907, 'chudoiydo', 1948, 'e4,Nf6,Nc3,e5,Nf3,Bb4,Bc4,Nc6,h3,Bxc3,dxc3,Nxe4,Qd3,Nf6,O-O,O-O,Bg5,Re8,Bxf6,Qxf6,Qd5,d6,Rfe1,Be6,Qb5,Bxc4,Qxc4,Rad8,Rad1,a6,a3,Rd7,Qb3,b6,Qa4,Nb8,Qb4,b5,c4,c5,Qb3,bxc4,Qxc4,a5,Qb5,Rde7,Qxa5,e4,Nd2,e3,fxe3,Rxe3,Rxe3,Qd4,Qc3,Qxe3+,Qxe3,Rxe3,Kf2,Re6,Re1,Nc6,Rxe6,fxe6,Nc4,d5,Nd2,Kf7,a4,c4,b3,c3,Nb1,d4,Ke2,e5,Kd3,Nb4+,Kc4,Nxc2,Nxc3,Ne3+,Kd3,dxc3', 'Kxe3,c2,Kd2,c1=R,Kxc1', 'https://lichess.org/training/j3SM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j3Ugh', 'Rapid', 'Mebarogy', 1784, 'GangBanga', 1783, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,Qe7,O-O,Ng4,Bg5,f6,exf6,gxf6,Re1,Nce5,Nxe5,Nxe5,Qh5+,Kd8,f4,fxg5', 'Rxe5,Qxe5,fxe5', 'https://lichess.org/training/j3Ugh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J3vt8', 'Rapid', 'aspis', 1678, 'bakibaku79', 1691, 'd4,e6,c4,c5,Nf3,cxd4,Nxd4,Nf6,Nc3,Bb4,Bd2,O-O,a3,Bc5,Nf3,Qb6,e3,Nc6', 'Na4,Qd8,Nxc5', 'https://lichess.org/training/J3vt8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J43SA', 'Rapid', 'GMScuzzBall', 1971, 'eoi', 1970, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Bg3,Nc6,c3,O-O,Bd3,a6,Nbd2,b5,Ne5,Bb7,Ndf3,Na5,Bh4,Be7,g4,Ne8,g5,f6,Bxh7+,Kxh7,g6+,Kg8,Nd2,fxe5', 'Qh5,Nf6,Bxf6,Rxf6,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/J43SA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J443h', 'Rapid', 'aliasghar01', 1615, 'wanderly', 1648, 'd4,d5,c4,dxc4,Nc3,c6,e4,b5,Nf3,f6,Bf4,e5,dxe5,Qxd1+,Rxd1,fxe5,Bxe5,Nf6,Bxf6,gxf6,Be2,Bb4,O-O,Bxc3,bxc3,Bb7,Nd4,Nd7,Bh5+,Kd8,Ne6+,Kc8,Bg4,Ne5,Bf5,Kb8,Rd2,a5,Rfd1,Ka7,a4,Nd3,axb5,cxb5,g3,Ne5,f4,Nf3+,Kf2,Nxd2,Rxd2,b4,cxb4,axb4,Ra2+,Kb6,Rb2,Ka5,Nc5,Bc8', 'Ra2+,Kb5,Rxa8', 'https://lichess.org/training/J443h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J48sS', 'Blitz', 'FM P--H--I--L--O--U', 2369, 'Aditya_aa', 2169, 'e4,c5,d4,cxd4,c3,d3,c4,Nc6,Nc3,d6,Bxd3,Nf6,Nge2,e5,b3,Be7,Bb2,Be6,f3,O-O,O-O,a6,Nd5,Bxd5,exd5,Nb8,Ng3,h6,f4,exf4,Rxf4,Nbd7,Nf5,Ne5,Bc2,Re8,Qe1,Ng6,Qg3,Nh5,Qc3,Bf6,Rd4,Nhf4,Ng3,Ne2+,Nxe2,Rxe2,Qd3,Qe7,Rf1,Bxd4+,Bxd4,Re8,Bc3,Qg5,g3,Qh5,h4,Qg4,Bd1,Nxh4,Bxe2,Rxe2,Rf4,Rg2+,Kf1,Qh3', 'Rxh4,Qxg3,Qxg3', 'https://lichess.org/training/J48sS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j49s5', 'Rapid', 'naz23', 1702, 'vashevelichesstvo', 1955, 'd4,Nf6,Nf3,d6,Nc3,Nc6,Bf4,Nxd4,Nxd4,e5,Bxe5,dxe5,Nf3,Qxd1+,Rxd1,e4,Ng1,e3,fxe3,Bc5,Nb5,Bb6,Kf2,Ng4+,Kf3,Nxe3,Rc1,h5,Nxc7+,Ke7,Nxa8,Rh6,Nh3,Bg4+,Ke4,Re6+,Kd3,Rd6+,Kc3,Bd4+,Kb3,Be6+,Kb4,a5+,Kxa5,Ra6+,Kb4,Rxa8,c3,Nd5+,Kb5,Bb6,e4,Ra5+,Kc4,Ne3+,Kd3,Rxa2,Nf4', 'Bc4+,Kd2,Rxb2+', 'https://lichess.org/training/j49s5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4Bht', 'Rapid', 'CedoGabbo03', 1733, 'LeClochard', 1720, 'e4,d6,d4,Nf6,Nd2,Nbd7,Bc4,e5,dxe5,dxe5,Ngf3,c6,a4,Be7,Qe2,O-O,O-O,a6,h3,Qc7,b3,Nb6,Bd3,Be6,Bb2,Bd6,Nc4,Nxc4,Bxc4,Bxc4,Qxc4,b5,axb5,axb5,Rxa8,Rxa8,Qd3,Ra2,Bc3,b4,Ra1,Rxa1+,Bxa1,h6,c3,bxc3,Bxc3,Kh7,Nd2,Nd7,Nc4,Nc5', 'Qxd6,Qxd6,Nxd6', 'https://lichess.org/training/j4Bht');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4D8B', 'Blitz', 'jiHymas', 1909, 'molkin', 1938, 'c4,c6,Nc3,d5,d4,Bf5,Nf3,Nf6,e3,e6,Bd2,Bb4,Qb3,Bxc3,bxc3,Qc7,Be2,O-O,O-O,Ne4,cxd5,cxd5,c4,Nxd2,Nxd2,dxc4,Bxc4,Nc6,Rfc1,Na5,Qb5,Nxc4,Rxc4,Qe7,e4,Bg6,Rac1,a6,Qb6,Qg5,Nf3,Qf4,d5,exd5,exd5,Qh6,Qxb7,Bh5,Rc8,Raxc8,Rxc8,Bxf3,Rxf8+,Kxf8,Qc8+,Ke7,Qc7+,Kf6,Qd6+,Kg5,Qe5+,Kg6,gxf3,Qg5+,Qxg5+,Kxg5,Kf1,Kf5,Ke2,Ke5,Kd3,Kxd5,Kc3,Kc5,Kb3,f6,Ka4,Kb6,Kb4,g5,Kc4,Kc6,Kd4,Kb5,Kd5,Ka4,Ke6,Ka3,Kxf6,Kxa2,Kxg5,Kb3,f4,a5,f5,a4,f6,a3,f7,a2,f8=Q,a1=Q,Qb8+,Kc2,Qc7+,Kd1,Qd6+,Ke2,f4,Qg7+,Kf5,Qf7+,Qf6,Qh5+,Ke6,Qxh2,Qe5+,Kf3,f5,Qc2,f6,Qc6+,Kf5,Qd7+,Kg5', 'Qg4+,Kh6,Qg6#', 'https://lichess.org/training/j4D8B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4EZ9', 'Rapid', 'Manuel_Alba', 1787, 'SubramanianTV', 1787, 'e4,c5,Nc3,a6,g3,Nc6,Bg2,d6,Nge2,Be6,d4,cxd4,Nxd4,Nxd4,Qxd4,Qd7,O-O,Bh3,f4,Bxg2,Kxg2,Nf6,e5,Qc6+,Kg1,dxe5,fxe5,Rd8,Qf4,Qb6+,Be3,Qxb2,exf6,gxf6,Bd4,Bh6,Qe4,Qb4,Rad1,Rxd4,Qxd4', 'Qxd4+,Rxd4,Be3+,Kg2,Bxd4', 'https://lichess.org/training/j4EZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4g7i', 'Rapid', 'FLINT27', 1675, 'MyK_00L', 1737, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,g6,Bd2,Bg7,Bc3,Nf6,e5,Ng8,Nf3,Qc7,Nbd2,Nxe5,Qe2,Nxf3+,Qxf3,Bxc3,bxc3,Nf6,Bd3,O-O,O-O,Qxc3,Ne4,Nxe4,Qxe4,d6,Qxe7,Qe5,Qc7,b6,Rae1,Qd4,Re4,Qd5,Rfe1,Bf5,R4e3,Bxd3,Rxd3,Qxa2,Rxd6,Rfc8,Qb7,Qxc2,h3,Qc7', 'Re8+,Rxe8,Qxc7', 'https://lichess.org/training/j4g7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J4gQC', 'Rapid', 'SashaBor', 2068, 'GranAL', 2183, 'd4,e6,e4,d5,Nd2,Nc6,c3,e5,dxe5,Nxe5,exd5,Qxd5,Ngf3,Nd3+,Ke2,Bf5,Nb3,O-O-O,Nbd4,Qe4+,Be3,c5,Nxf5,Nf4+,Ke1,Rxd1+,Rxd1,Qxf5,g3,Nd5,Ng5,Be7', 'Bh3,Qxh3,Nxh3,Nxe3,fxe3', 'https://lichess.org/training/J4gQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4GUP', 'Blitz', 'IM sinuylehcimsinuy', 2343, 'edschp', 2032, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,g6,cxd5,cxd5,Bf4,a6,e3,Bg7,h3,O-O,Be2,Nbd7,O-O,b5,Rc1,Bb7,a4,b4,Nb1,a5,Bc7,Qe8,Nbd2,Ne4,Nxe4,dxe4,Nd2,e5,Bd6,exd4,Bxf8,Bxf8,exd4,Nb6,Bb5,Qe6,Re1,f5,Rc7,Bd5,Qc2,Bd6,Rc5,Bxc5,dxc5,Rc8,Rc1,Nd7,c6,Ne5,Nf1,Bxc6,Ne3,Bb7,Qd2,Rxc1+,Qxc1,Nd3,Qc7,Qc8,Bc4+,Kh8,Qf7,Qd8,Qxb7,Ne5,Qb5,Qe7,Qd5,Kg7,Qg8+,Kh6,g4,fxg4,hxg4,Nf3+,Kg2,Qh4,Kf1', 'Qh1+,Ke2,Qe1#', 'https://lichess.org/training/j4GUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4jZT', 'Rapid', 'LucaZak', 1715, 'Fedost', 1654, 'd4,c6,c4,d5,Nc3,dxc4,e4,b5,a4,b4,Na2,e6,Bxc4,b3,Nc3,Bb4,Bxb3,Qa5,Bd2,Nf6,Nge2,Ba6,O-O,Qb6,Be3,Bxc3,bxc3,Bxe2,Qxe2,Qxb3,Qf3,Qxc3,Rac1,Qa5,e5,Nd5,Qg3,g6,Bh6,Qxa4,Be3,Nxe3,fxe3,O-O,Rf4,Qa3,Rcf1,Nd7,Rh4,Rab8,Qh3,h5,Qg3,Kh7,Qg5,Nxe5,dxe5,Qc3,g4,f6,exf6,Rb5', 'Rxh5+,gxh5,Qg7#', 'https://lichess.org/training/j4jZT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4kRl', 'Blitz', 'FoxTeam', 2083, 'RaySN', 2070, 'd3,e6,e4,d5,Nc3,Nf6,e5,Nfd7,d4,c5,f4,cxd4,Qxd4,a6,Be3,Nc6,Qd2,Bb4,a3,Ba5,b4,Bb6,Nf3,O-O,Be2,h6,O-O,Re8,Kh1,Nf8,Rad1,Qc7,Nd4,Nxd4,Bxd4,Bxd4,Qxd4,Bd7,Bh5,Rac8,Rd3,Qc4,Qe3', 'd4,Qxd4,Qxd4,Rxd4,Rxc3', 'https://lichess.org/training/j4kRl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J4M9u', 'Rapid', 'avicennaf', 1854, 'syamsudin', 1826, 'd4,e6,e3,c5,Bd3,Nc6,c3,a6,f4,b5,Nf3,Bb7,O-O,h6,Nbd2,Nf6,e4,c4,Bc2,d5,exd5,Nxd5,Be4,Ne3,Qe2,Nxf1,Nxf1,Qc7,Ne5,Nxe5,fxe5,Be7,Ng3,O-O,Bxh6,Bxe4,Qxe4,f5,Qf4,gxh6,Qxh6,Rf7,Nh5,Bf8,Qg6+,Bg7,Nf6+,Kf8,Qh7,Ke7,Ng8+,Rxg8,Qxg8,Qd8,Qh7,Bxe5,Qh4+,Bf6,Qf4,Qd6,Qf3,Rh7,h3,Rh4,Re1,Rh7,Qxf5,Rg7,Qf3,Bh4,Rf1,Ke8', 'Qh5+,Kd7,Qxh4', 'https://lichess.org/training/J4M9u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4MsN', 'Rapid', 'niglou', 1618, 'aakashkctunnu', 1666, 'e4,e5,Nf3,Nc6,Nc3,a6,a3,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,Qf6,f4', 'Nf3+,gxf3,Qxd4', 'https://lichess.org/training/j4MsN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4n0k', 'Blitz', 'Drankstryco', 2029, 'thecorrs1', 2103, 'e4,c6,d4,d5,exd5,cxd5,c4,e6,cxd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,Be7,Re1,O-O,Ne5,Nb6,Bf4,a6,Qb3,Nbd5,Bg3,b5,Rac1,Rc8,h3,h6,Nxd5,Nxd5,Nc6,Qd7,Nxe7+,Qxe7', 'Rxc8,Rxc8,Qxd5,exd5,Rxe7', 'https://lichess.org/training/j4n0k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J4nIg', 'Classical', 'JosepManel', 1843, 'AMReyesF', 1827, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,dxc5,Bxc5,Be2,Ne7,O-O,O-O,Nbd2,Nbc6,Nb3,Bd6,Nbd4,h6,c3,Bd7,Be3,a6,Qc2,Qc7,a3,Bc5,b4,Bxd4,cxd4,Rac8,Rac1,Rfd8,Ne5,b5,Nxd7,Rxd7,Bd3,g6,Bxh6,Nxd4,Qxc7,Rcxc7,Rxc7,Rxc7,Rc1,Rd7,Be3,Ne6,Bc5,d4,Bxe7,Rxe7,g3,Kg7,Rc6,Ra7,Kg2,Kf6,f4,Ke7,Kf3,Kd7,Rc1,Rc7,Rxc7+,Nxc7,Ke4,Ne6,f5,gxf5+,Kxf5,Kd6,Kf6,Kd5,Kxf7,Ng5+,Kf6,Nh3,g4,Nf4,g5', 'Nxd3,Kf5,Ne5', 'https://lichess.org/training/J4nIg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4QOD', 'Rapid', 'I_AM_N00B', 1910, 'abuzeen-300', 1995, 'b4,d5,Bb2,f6,e3,e5,b5,Be6,a4,c5,d3,a6,c4,dxc4,dxc4,Qxd1+,Kxd1,axb5,axb5,Rxa1,Bxa1,Nd7,Bd3,f5,f3,Bd6,Ke2,Nb6,Nd2,Nf6,e4,f4,g3,g5,gxf4,gxf4,h4,O-O,Nh3,h6,Nf2,Ra8,Rg1+,Kf7,Ng4,Nxg4,fxg4,Bxg4+,Rxg4,Rxa1,h5,Nd7,Rg6,Nf6,Rxh6,Rh1,Nf3,Rxh5,Rxh5,Nxh5,Ng5+,Ke7,Kf3,Nf6,Nh3,Kd7,Ng5,Ke7,Nh3,Bc7,Nf2,Bd8,Ng4,Nd7,Nh6,Kf6,Nf5,Bc7,Nh6,Nf8,Ng4+,Ke6,Nh6,Nd7,Nf5,Nb6,Ng7+,Kf7,Nf5,Na4,Nh6+,Ke6,Nf5,Ba5,Ng7+,Kf7,Nf5,Bc7,Nh6+,Ke6,Nf5,Nb2,Be2,Na4,Bd3,Nc3,Ng7+,Kf7,Nf5,Kf6,Nh6,Ba5,Nf5,Nd1,Nd6,b6,Nf5,Bd2', 'Ke2,Ba5,Kxd1', 'https://lichess.org/training/j4QOD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J4tfX', 'Rapid', 'braa_94', 1721, 'ckmaten1', 1748, 'd4,d5,c4,c6,Nc3,e6,a3,h6,Nf3,dxc4,e4,b5,b3,cxb3,Qxb3,Nf6,e5,Nd5,Nxb5,Be7,Nd6+,Bxd6,exd6,Qxd6,Bc4,O-O,Bxd5,cxd5,O-O,Ba6,Re1,Bc4,Qe3,Nc6,Ne5,Nxe5,dxe5,Qd7,Qg3,Kh7,a4,a5,Bf4,Rab8,h3,Rb4,Bd2,Rxa4,Rxa4,Qxa4,Qc3,Ra8,Re3,Qd1+,Kh2,a4,Rg3,a3,Bxh6,Kxh6,Qe3+,Kh7,Qg5,Rg8', 'Qh4+,Qh5,Qxh5#', 'https://lichess.org/training/J4tfX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4UF5', 'Rapid', 'FitZippyAir', 2050, 'CM killerm3000', 2356, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,Be3,Ng4,Bg5,f6,Bc1,exd4,Qxd4,f5,Qd5+,Kh8,exf5,c6,Qd1,Bxf5,h3,Ne5,Be3,Nxf3+,Bxf3,Na6,Bd4,Bxd4,Qxd4+,Qf6,Qxf6+,Rxf6,O-O,Bxh3,Ne4,Rxf3,gxf3,Bxf1,Rxf1,d5,cxd5,cxd5,Nc3,d4,Nb5,d3,Rd1,Rd8,Kf1,Nb4,a3,Nc6,Ke1,Ne5,f4,Nc4,b3,a6,bxc4,axb5,cxb5,Rd4,Rd2,Kg7,Kd1,Kf6,a4,Kf5,a5,Ke4,a6', 'bxa6,bxa6,Ra4', 'https://lichess.org/training/j4UF5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J4UFf', 'Rapid', 'kamarajirse', 1822, 'BrunoSahista', 1861, 'e4,d6,d4,Nf6,Nc3,Bg4,f3,Bh5,Bd3,Nc6,Nge2,Qd7,O-O,h6,Nf4,Nxd4,Be3,Nc6,Ncd5,g6,Nxf6+,exf6,Nd5,Bg7,Bb5,a6,Ba4,O-O-O,g4,Bxg4,fxg4,f5,exf5,gxf5,Bxc6,bxc6,gxf5,cxd5,Qxd5,Qb5,Qxf7,Be5,Rab1,Qe2,Qe6+,Rd7,Bf2,Qg4+,Kh1,Qh3,Bg1,Kd8,Rbe1,Re8,Qg6', 'Rg7,Qxg7,Bxg7,Rxe8+,Kxe8', 'https://lichess.org/training/J4UFf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4Utd', 'Blitz', 'IM estocastico', 2598, 'mohammedarrami', 2611, 'd4,Nf6,Nf3,d5,c4,e6,Nc3,c5,cxd5,Nxd5,e4,Nxc3,bxc3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Bc4,Nd7,O-O,b6,d5,Nc5,Rfe1,Bb7,Rad1,exd5,exd5,Qd6,Nd4,g6,Nb5,Qd7,d6,Rfe8,Nc7,Rxe1+,Rxe1,Rf8,Qf4,Ne4,Rxe4,Bxe4,Qxe4,Qxd6,Nd5,Rd8,g3,b5,Bb3,a5,Ne7+,Kf8,Nc6,Re8,Qf3,f5,Nxa5,Re4,Qc3,Qe5,Qc8+,Kg7,Kg2,Re1,Qb7+,Kh6,Qf3,Qe4,Qxe4,fxe4,Nc6,Re2,Nd4,Rd2,Nc2,Kg7,h4,h6,Ne3,Kf6,Ng4+,Kg7,Kf1,g5,hxg5,hxg5,Ke1,Rb2,Ne3,Kf6,Nd1,Rb1,Bc2,Rb4,Kd2,Rd4+,Ke3,Rc4,Bxe4,Ke5,Bd3,Ra4,Bb1,Ra3+,Kd2,Kd4,Ne3,Ra7,Nc2+,Ke5,Nb4,Rd7+,Ke2,Rc7,Nd3+,Kd4,Nb4,Re7+,Kd2,Rd7,Bd3,Kc5,Nc2,Re7,Kc3,Kb6,Nb4,Re8,Kb3,Kc5,Nc2,Rd8,Bg6,Kb6,Ne3,Rd6,Be4,Rd2,Nd5+,Kc5,Ne3,Rxf2,g4', 'Re2,Bf5,Rxe3+', 'https://lichess.org/training/j4Utd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j4x4X', 'Blitz', 'paula_ch', 1751, 'fatass5000', 1747, 'd4,d5,Nf3,Nf6,e3,Bf5,Bd3,Bg4,Be2,e6,O-O,Bd6,b3,a6,Bb2,b5,a3,c5,c4,dxc4,bxc4,bxc4,Bxc4,Nbd7,Be2,O-O,Qc2,Bf5,Bd3,Bg4,Nbd2,cxd4,exd4,Qa5,Rac1,Rfc8,Qb1,Qh5,h3,Bxh3,gxh3,Qxh3,Rfe1,Ng4,Bf1', 'Bh2+,Kh1,Nxf2#', 'https://lichess.org/training/j4x4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J4yoV', 'Rapid', 'CNR2012', 1859, 'ZaNziBAr_TiGeR', 1665, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bg4,h3,Bh5,g4,Bg6,Ne5,Nf6,Nxc6,bxc6,Bxc6+,Nd7,Bxa8,Qxa8,Nc3,e6,Nb5,Qb7,a4,a6,Nc3,Bb4,Bd2,O-O,h4,h6,g5,h5,f4,Rc8,Qe2,Nb6,f5,exf5,Kd1,f4,Na2,Bxc2+,Ke1,Bxd2+,Qxd2,Re8+,Kf2,Bg6,Rhe1,Rc8,Nc3,Nc4,Qe2,Qb6,Rad1,Nxb2,Rd2,Rxc3,Rxb2,Qxd4+,Kg2,Rg3+,Kh2,Be4', 'Rb8+,Kh7,Qxh5#', 'https://lichess.org/training/J4yoV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J4zBV', 'Blitz', 'DionDenzelAdvincula', 2074, 'Sirdonzki', 1895, 'c4,Nf6,Nf3,g6,g3,Bg7,Bg2,d6,d3,c6,O-O,Nbd7,Nbd2,Rb8,Rb1,O-O,e4,e5,Re1,Qa5,a3,b5,Nb3,Qb6,Be3,c5,Nbd2,a6,h3,Nh5,Qc2,f5,exf5,Nhf6,fxg6,hxg6,Ng5,Re8,Bd5+,Kf8,Ne6+,Kg8,Nc7+,Kh7,Nxe8,Nxe8,Nf3,Ndf6,Ng5+,Kh8,Nf7+,Kg8,Nxd6+,Nxd5,Nxc8,Nxe3,Rxe3,Rxc8,cxb5,axb5,Rbe1,Nd6,Qb3+,Kh7,Qe6,Re8,Qg4,Nf5,Re4,c4,dxc4,bxc4,Qe2,Nxg3,Rh4+,Nh5', 'Rxh5+,gxh5,Qxh5+,Qh6,Qxe8', 'https://lichess.org/training/J4zBV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j53lc', 'Blitz', 'Tanygin_Valery', 2090, 'xxxsingularitexxx', 2027, 'c4,e5,Nc3,Nf6,Nf3,Nc6,d4,e4,Ng5,Bb4,e3,h6,Nh3,d5,Nf4,O-O,Bd2,Bxc3,Bxc3,Re8,Qb3,dxc4,Bxc4,Qe7,Ng6,Qd7,d5,Na5,Bxa5,fxg6,d6+,Kh7,Bxc7,a6,a4,b5,axb5,a5,O-O,Bb7,b6,a4,Qb4,Re5,Rfc1,Rg5,h4,Rg4,g3,Nh5,Be2,Rxg3+,fxg3,Nxg3,Qe1,Qh3,Qf2,Rf8,Qxf8,Qh1+,Kf2', 'Qh2+,Ke1,Qxe2#', 'https://lichess.org/training/j53lc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j54hY', 'Blitz', 'Setdar', 2239, 'Ondeosfracos', 2195, 'e4,c5,d3,d6,Nf3,g6,Be2,Bg7,O-O,Nc6,c3,Nf6,Nbd2,O-O,Qc2,a5,Re1,a4,Nf1,a3,b3,Ng4,Bf4,b5,h3,Nge5,Rad1,Bxh3,gxh3,Qc8,Kg2,g5,Bg3,h6,Nxe5,Nxe5,d4,cxd4,Bxb5,dxc3,Ne3,Ng6,Nd5,e6,Nb6,Qb7,Rxd6,Rad8,Red1,f5,Bc4,f4,Rxe6,Kh8,Rxg6', 'Rxd1,Qxd1,Qxe4+,f3,Qxg6', 'https://lichess.org/training/j54hY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j58A5', 'Blitz', 'grekhov55', 1880, 'Dars3206', 1892, 'd4,Nf6,Nf3,e6,c4,b6,Nc3,Bb4,e3,Ne4,Qc2,Bb7,Bd3,f5,O-O,Bxc3,bxc3,O-O,Ne5,d6,Nf3,Nd7,Bb2,Rf6,h4,Rh6,Bxe4,Bxe4,Qe2,Nf6,Ng5,Rxh4,f3,Ng4,Nxe4', 'Rh1+,Kxh1,Qh4+,Kg1,Qh2#', 'https://lichess.org/training/j58A5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j5aiS', 'Rapid', 'skuljvin', 1824, 'bhirghu', 1818, 'd4,Nf6,c4,c5,e3,g6,Nf3,Bg7,Nc3,O-O,d5,d6,Bd3,b5,b3,b4,Ne2,Nxd5,Rb1,Nc3,Nxc3,bxc3,Qc2,Bg4,Be4,Nd7,Bxa8,Qxa8,Nh4,g5,f3,gxh4,fxg4,Nf6,g5,Ne4,O-O,Kh8,Rf4,Nxg5,Rxh4,f6,e4,h6,Qxc3,Rg8,Qe3,Qc8,Rh5', 'Qg4,Bd2,Qxh5', 'https://lichess.org/training/j5aiS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j5aoh', 'Rapid', 'JaGo1988', 1717, 'zz123', 1671, 'd4,c5,dxc5,Nc6,Nc3,e6,Be3,Qa5,Nf3,Bxc5,Bxc5,Qxc5,e3,a6,Bd3,Nf6,Ne4,Nxe4,Bxe4,d5,Bd3,Nb4,a3,Nxd3+,Qxd3,O-O,O-O-O,b5,e4,Bb7,exd5,exd5,Ng5,g6,h4,Rac8,h5,d4,Nxh7,Kxh7,hxg6+,Kg7,Rh7+,Kf6,g7,Rg8,Rdh1,Rxg7', 'R1h6+,Ke7,Rxg7', 'https://lichess.org/training/j5aoh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5aUi', 'Rapid', 'CornelCornelius', 1913, 'papuas2500', 1887, 'd4,d5,Nc3,c6,Nf3,Bg4,h3,Bxf3,exf3,e6,Bd3,Nf6,Bg5,Be7,Bxf6,Bxf6,Ne2,Qa5+,c3,Qb6,Qc2,Nd7,f4,g6,g4,Bh4,g5,O-O-O,b4,h6,a4,hxg5,a5,Qc7,b5,gxf4,b6,axb6,axb6,Nxb6,Qb3,f3,Ng1,e5,Ra7,exd4,Ba6,Qe5+,Kf1,Rde8,Nxf3,Qe4,Bxb7+,Kb8,Qxb6', 'Qe2+,Kg2,Qxf2#', 'https://lichess.org/training/J5aUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j5Bd9', 'Blitz', 'CM PchelkinVK', 2565, 'SFA_Gang', 2631, 'd4,Nf6,Nc3,d5,Bf4,c6,Nf3,Bf5,e3,Nbd7,Ne5,e6,g4,Bg6,h4,h6,Nxg6,fxg6,Bd3,Kf7,Qf3,Bb4,O-O-O,Qa5,Nb1,Qxa2,g5,a5,Rhg1,Ne4,c3,Be7,gxh6,gxh6,Be5+,Bf6,Bxe4,dxe4,Qxe4,Rag8,Bxf6,Nxf6,Qe5,Qd5,Qc7+,Qd7,Qxa5,Qd5,Qc7+,Qd7,Qf4,Rd8,e4,Kg7,e5,Nd5,Rxg6+,Kxg6', 'Rg1+,Kh7,Qe4#', 'https://lichess.org/training/j5Bd9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5bmR', 'Rapid', 'Cchi', 1940, 'isiksehirlioglu', 1627, 'c4,Nf6,Nc3,g6,e3,Bg7,Nge2,Nc6,g3,d5,cxd5,Nxd5,Qb3,Nxc3,Nxc3,O-O,Bg2,Be6,Qxb7,Ne5,Qxa8,Qxa8,Bxa8,Rxa8,O-O,Nf3+,Kg2,Ng5,d4', 'Bh3+,Kh1,Bxf1', 'https://lichess.org/training/J5bmR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5BW2', 'Blitz', 'g4mall', 1522, 'letabac', 1751, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Nf3,c6,Bg5,Be7,Ne5,Bf5,e3,h6,Bh4,O-O,Bd3,Bxd3,Qxd3,Nbd7,Nxd7,Qxd7,O-O,Rfe8,Rfe1,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Qb3,Rad8,Rad1,Rd5,h3,Kh8,a4,f5,Qc4,a5,Rb1,Rf8,b4,axb4,Rxb4,f4,exf4,Rxf4,a5,Rxa5,Qb3,Qf6,Rxb7,Rd5,Qe3,Rxd4,Rc1,Rd3,Qc5,e3,fxe3,Rf2,Qc4,Rxg2+,Kxg2,Rd2+,Kg3,Qf2+,Kg4,Qg2+,Kf4,Rf2+,Ke5,Qg5+,Kd4,Qf6+,Kd3,Qd6+,Kc3', 'Qd2+,Kb3,Qb2+,Ka4,Qxb7', 'https://lichess.org/training/J5BW2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j5dhE', 'Blitz', 'CM ShahMatKanal', 2375, 'NM oberschlumpf', 2313, 'd4,d5,c4,dxc4,e3,e5,Bxc4,exd4,Qb3,Qe7,Bd2,dxe3,fxe3,Nd7,Nf3,Nc5,Qc2,Nf6,O-O,Qe4,Bxf7+,Kxf7', 'Ng5+,Ke8,Nxe4', 'https://lichess.org/training/j5dhE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j5esc', 'Blitz', 'RepublicanChessKing', 1503, 'PahomovAlex', 1516, 'e4,a6,Nf3,b5,d4,Bb7,Bd3,e6,O-O,h6,c4,bxc4,Bxc4,Bxe4,Re1,Bb7,d5,Bb4,dxe6,Bxe1,exf7+,Kf8,Qxe1,Nf6,Qb4+,d6,Qxb7,Nbd7,Nc3,Nc5,Qb4,Rb8,Qa5,Nfe4,Nxe4,Nxe4,Nh4,Qf6,Qxc7', 'Qxf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/j5esc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5fka', 'Rapid', 'MM96', 2037, 'alikahi2000', 1902, 'e4,e6,d4,d5,e5,c5,dxc5,Bxc5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Ne7,Bg5,Qb6,O-O,Qxb2,Nbd2,Nxe5,Rb1,Nxf3+,Nxf3,Qxa2,Bxe7,Bxe7,Rxb7,Bf6,Qd3,O-O,Rb4,Rfc8,Rc1,Rc7,g4,Rac8,g5,Be7,Rh4,g6,c3,Qb2,Rc2,Qa1+,Kg2,Rxc3,Rxc3,Qxc3,Qa6,Rc7,Qb5,Qc6,Qb8+,Kg7,Nd4,Qb7,Qe8,Bxg5,Rg4,Bf6,h4,h5,Nxe6+,Kh7,Nf8+,Kh6', 'Rxg6+,fxg6,Qxg6#', 'https://lichess.org/training/J5fka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5gGY', 'Blitz', 'koutsou83', 1952, 'SAGAFADES676', 1894, 'e4,e5,Nf3,Nc6,Bb5,f5,exf5,Nf6,Bxc6,dxc6,O-O,e4,Qe2,Bxf5,d3,Qe7,Ng5,O-O-O,dxe4,Bg4,Qc4,h6,f3,hxg5,fxg4,Nxe4,Nc3,Nxc3,bxc3,Qc5+,Qxc5,Bxc5+,Kh1,Bf2,Bxg5', 'Rxh2+,Kxh2,Rh8+,Bh6,Rxh6#', 'https://lichess.org/training/J5gGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5J5v', 'Blitz', 'WFM QueenSey1989', 2008, 'lance-a-lot', 1973, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,Nc3,a6,Bxc6,bxc6,O-O,g6,f4,Bg7,Be3,Nf6,Qf3,c5,Nde2,Bc6,Nd5,O-O,f5,e6,Nxf6+,Bxf6,Bh6,Bg7,Bxg7,Kxg7,f6+,Kh8,Qf4,Qb6,Qh6,Rg8,Rf3,c4+,Kh1,Qxb2,Raf1,Bxe4', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/J5J5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j5KB4', 'Rapid', 'Jardon2026', 1987, 'AnonymousFeeder', 1870, 'd4,g6,c4,Bg7,Nc3,c6,Bg5,d5,Nf3,Nf6,cxd5,cxd5,Qc1,Nc6,Bxf6,Bxf6,e3,O-O,a3,e5,Nxe5,Nxe5,dxe5,Bxe5,Be2,Be6,O-O,Qh4,g3,Qg5', 'f4,Qf6,fxe5', 'https://lichess.org/training/j5KB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5Myr', 'Blitz', 'Olovuddin', 1694, 'mariorondon', 1621, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nc3,Nxf3+,Qxf3,Qf6,Qxf6,Nxf6,d3,c6,Bg5,Be7,O-O-O,O-O,f4,h6,fxe5,hxg5,exf6,Bxf6,g3,d6,d4,Bg4,Rd2,Rae8,d5,c5,Bd3,a6,Na4,Bd8,h4,gxh4,gxh4,b5,Nc3,Bh5,Ne2,c4,Ng3,Bf3,Rf1,cxd3,Rxf3,dxc2,Rh2,Re5,h5,Bg5+,Kxc2,Rc8+,Kd3,Kh7,Nf5,g6,Nxd6,Rf8,hxg6+,Kxg6,Rg3,f6,Rhg2,Rd8,Nf5,Rexd5+,exd5,Rxd5+,Ke4,Rxf5,Rxg5+,fxg5,Rd2,Rf4+,Ke3,Rb4,Rd6+,Kh5,b3,a5,Ra6,g4,Rxa5,Kh4,Ra6,g3,Rg6', 'Rg4,Rh6+,Kg5,Rh1,g2', 'https://lichess.org/training/J5Myr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5ne9', 'Blitz', 'CM Brookway', 2276, 'capricorn04', 2099, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,exd5,Bg5,Be7,Qc2,c6,e3,O-O,Bd3,h6,Bh4,Re8,Nge2,Nbd7,O-O,Nf8,f3,N6d7,Bf2,Bg5,f4,Be7,Rae1,Bd6,Ng3,Nf6,Nf5,Bc7,Bh4,Ng6,Bf2,Ng4,h3,Nxf2,Qxf2,b5,a3,a5,Qc2,Nf8,Rf3,Ne6,Rg3,Kf8,Nd1,Bd7,Rg4,h5,Rg3,g6,Nh6,Qh4,Kh2,Nxd4,Qc5+,Kg7,Qxd4+,Kxh6,Rg5,Qxe1,Qf6,Bxf4+,exf4,Qe7', 'Rxg6+,fxg6,Qxg6#', 'https://lichess.org/training/J5ne9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5NkD', 'Rapid', 'RaffaelBih', 1522, 'qwpoqw1', 1599, 'e4,e5,Nf3,Bc5,d4,exd4,Nxd4,Ne7,Bc4,O-O,O-O,c6,Be3,d5,Nb3,Bxe3,fxe3,dxc4,Nd4,c5,Ne2,Qb6,Nbc3,Qg6,Nf4,Qc6,Qd2,b5,Rad1,Nd7,Nfd5,Nxd5,Nxd5,Qe6,Nc7,Qc6,Nxa8,Qxa8,Qd5,Qb8,e5,Nb6', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/J5NkD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j5oLQ', 'Classical', 'Dehne', 1636, 'sanchara46', 1644, 'c4,c6,e3,d5,cxd5,cxd5,Be2,Bf5,Nf3,h6,Ne5,Nf6,Bb5+,Nbd7,Qf3,Be4', 'Bxd7+,Qxd7,Nxd7,Bxf3,Nxf6+,gxf6,gxf3', 'https://lichess.org/training/j5oLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5PlF', 'Rapid', 'Switi77033', 1815, 'likedwise', 1781, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Nf6,Nf3,e6,Ne5,Nbd7,f4,Qa5+,c3,O-O-O,b4,Bxb4,cxb4,Qxb4+,Qd2,Qxd2+,Bxd2,Nxe5,dxe5,Ne4,Nxf5,Nxd2,Nxg7,Rhg8,Nh5,Ne4,Rd1', 'Rxd1+,Kxd1,Nf2+,Ke2,Nxh1', 'https://lichess.org/training/J5PlF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j5QgK', 'Rapid', 'chanakam2000', 2059, 'Luters', 2146, 'e4,e6,Nf3,d5,Nc3,Nf6,e5,Nfd7,d4,c5,dxc5,Nc6,Bf4,Nxc5,Be2,a6,O-O,Be7,Re1,O-O,Nd4,Bd7,Bf3,Rc8,Nce2,f6,Nxc6,bxc6,Nd4,a5,a4,Re8,b3,g5,exf6,Bxf6,Be5,Bxe5,Rxe5,Qf6,Qe2,Rf8,Re1,Rce8,Qe3,h6,Nxc6,Nxb3,cxb3,Bxc6,Bh5,Re7,h4,Rg7,hxg5,Rxg5,Rxg5+,hxg5,Qxe6+,Qxe6,Rxe6,Ba8,Rg6+,Kh7,Rxg5,Rd8,Re5,d4,g3,d3,Kf1,Bd5,Bd1,Kg6,f4,Kf6,Kf2,d2,Ke2,Be6,Rxa5', 'Bg4+,Ke3,Bxd1', 'https://lichess.org/training/j5QgK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5SGy', 'Rapid', 'PieterDornig', 1659, 'scott20191', 1717, 'e4,c6,d3,d5,Nd2,dxe4,Nxe4,Bf5,Be3,Nd7,Nf3,e5,g3,Ngf6,Nxf6+,Nxf6,Nxe5', 'Qa5+,c3,Qxe5', 'https://lichess.org/training/J5SGy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j5vtA', 'Blitz', 'checkmateArabs', 2079, 'Bilbo_Swagginz', 2164, 'd4,f5,g3,g6,Bg2,Bg7,Nf3,d6,O-O,c6,Qd3,Nf6,c4,Be6,b3,O-O,Nc3,h6,Ba3,Nbd7,Nh4,Kh7,e4,fxe4,Nxe4,Qe8,Bxd6,exd6,Nxd6,Qe7,c5,Bf7,Rfe1,Qd8,Nxf7,Rxf7,Qxg6+,Kg8,Nf5,Kf8,Re6,Ng8,Nd6,Qg5,Rae1,Qxg6', 'Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/j5vtA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5WKl', 'Blitz', 'andrew7777777', 1568, 'Cunammis', 1545, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,g4,Bg6,Ng5,Qxg5,d3,Qe7,f4,exf4,Bxf4,Bxe4,dxe4,Qxe4+,Be2,Qxf4,Rf1,Qg3+,Kd2,Nd7,Rxf7,Kxf7,Bc4+,Ke8,Qe2+,Ne5,Nc3,Ne7,Be6,Rd8,Nb5,Qf4+,Kc3,Nd5+,Bxd5,Ke7,Rf1,Qg3+,Kb4,c6', 'Rf7+,Ke8,Nc7#', 'https://lichess.org/training/J5WKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j5XmK', 'Rapid', 'mrRanglica', 1920, 'rhoencar', 1956, 'd4,d5,Nf3,Nf6,Nc3,Bf5,Bf4,e6,e3,Bd6,Ne5,Nbd7,Bd3,Ne4,Nb5,Nxe5,Nxd6+,cxd6,dxe5,dxe5,Bxe5,Qa5+,c3,O-O,O-O,Rac8,Qh5,f6,Bg3', 'Nxg3,hxg3,Bxd3', 'https://lichess.org/training/j5XmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5Z2s', 'Blitz', 'my9006', 1706, 'AJA9898', 1675, 'e4,e6,d3,d5,exd5,exd5,Nf3,Be6,Nc3,Nf6,Bg5,Be7,Qd2,h6,Bh4,O-O,O-O-O,Nbd7,Kb1,c5,h3,a6,g4,b5,g5,hxg5,Nxg5,b4,Nxe6,fxe6,Ne2,a5,Nf4,Qb6,Ng6,Rfb8,Nxe7+,Kf7,Nxd5,exd5,Bxf6,Nxf6,Qf4,a4,Be2,b3,cxb3,axb3,a3,Rxa3,bxa3,Qa5,Kb2,Ra8,Ra1,d4,h4', 'Qc3+,Kb1,Qc2#', 'https://lichess.org/training/J5Z2s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J5zvr', 'Rapid', 'ignacius10', 1876, 'zagoreanuvictor', 1876, 'd4,d5,c4,c6,e3,Nf6,Nf3,Bg4,Be2,Nbd7,O-O,e6,a3,Bd6,b4,b6,c5,bxc5,bxc5,Be7,Nbd2,O-O,Qc2,Rb8,Bd3,h6,h3,Bxf3,Nxf3,Qc7,Re1,Rb7,e4,dxe4,Bxe4,Nxe4,Qxe4,Nf6,Qe5,Rfb8', 'Qxc7,Rxc7,Bf4', 'https://lichess.org/training/J5zvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J6296', 'Rapid', 'AKgs', 1914, 'ernstjuenger', 1937, 'd4,Nf6,e3,g6,Bd3,Bg7,f4,d5,Nf3,O-O,Nbd2,c5,c3,b6,Ne5,Nfd7,O-O,Nxe5,fxe5,f6,exf6,exf6,Nf3,Nc6,Bd2,f5,Qa4,Bd7,Bb5,Qc7,c4,a6,Bxc6,Bxc6,Qc2,Rad8,dxc5,dxc4,cxb6,Qxb6,Qxc4+,Bd5,Qc2,Qxb2,Qxb2,Bxb2,Rab1,Bg7,Bb4,Rfe8,Rfe1,Bxa2,Rbc1,Bd5,Rc7,Bxf3,gxf3,Rxe3,Rxe3,Bd4,Bc5,Bxe3+,Bxe3,Rd1+,Kf2,a5,Ra7,Ra1,Bc5,a4,h4,h6,Kg3,g5,hxg5,hxg5,Be7,f4+,Kg4,Rg1+,Kf5,g4,fxg4,f3,Ra5', 'f2,Kg6,Rxg4+', 'https://lichess.org/training/J6296');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j64l4', 'Blitz', 'Abanob12222', 1694, 'creuzdos', 1681, 'e4,e5,d4,exd4,Nf3,Bc5,Bc4,Nc6,Ng5,d5,exd5,Na5,Qf3,Qe7+,Be2,Nf6,Bd2,b6,a3,Bb7,b4,Bxd5,Qd3,Bxg2,Rg1,Be4,Nxe4,Nxe4,bxc5,bxc5,Bxa5,O-O,Nd2,Nxd2,Bxd2,Rfe8,O-O-O,Rab8,Rde1,c4,Qxc4', 'Qxa3+,Kd1,Rb1+,Bc1,Qxc1#', 'https://lichess.org/training/j64l4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j65vK', 'Rapid', 'artchess_888', 1998, 'Ynot-60', 1958, 'd4,d5,Bf4,Bf5,c4,c6,Nc3,Nf6,e3,e6,Nf3,Bd6,Ne5,Qc7,c5,Bxe5,Bxe5,Qe7,Bd6,Qd7,Bd3,Bg6,b4,b5,Be2,Ne4,Nxe4,Bxe4,f3,Bg6,a4,Na6,axb5,Nxb4,bxc6,Qxc6,Kf2,a5,Qb3,Kd7,h4,Bc2,Qc3,Bg6,Rhc1,h6,Ra3,Ra7,Rca1,Rha8,Ra4,Nc2,R1a2,Nb4,Rxa5,Nxa2,Rxa7+,Rxa7,Qb3,Nc1,Qb8,Ra2,Qf8,Nxe2,Qe7+,Kc8,Qf8+,Kb7,Qb8+,Ka6,Bc7,Nxd4+,Kg3,Nf5+,Kh3,Nxe3,Bb6,Qb7,Qe8,Nc4,Bd8,Rb2', 'Qa4+,Na5,Qxa5#', 'https://lichess.org/training/j65vK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J67BV', 'Rapid', 'Tarek256', 1849, 'rodantero', 2140, 'd4,d5,f4,f5,e3,Nf6,Bd3,e6,Nf3,Bd6,Nbd2,O-O,c3,Ng4,Qe2,Nd7,O-O,c5,h3,Ngf6,Ne5,Ne4,Bxe4,fxe4,Qh5,cxd4,cxd4,b6,a3,Ba6,Rf2,Rc8,Nf1,Bxf1,Rxf1,Rc2,Rb1,Nxe5,dxe5,Bc5,Qd1,Rc4,b3,Rc3,Re1,Rxf4,b4,Qh4,bxc5,Qf2+,Kh1,Rc2,Rg1,Rh4,Kh2,g5,Qf1', 'Rxh3+,Kxh3,Qh4#', 'https://lichess.org/training/J67BV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j67j9', 'Rapid', 'dipakjjethva', 1696, 'Barcaza', 1643, 'e4,e6,f4,b6,Bc4,Bb7,d3,c5,a3,Nc6,Nf3,Be7,O-O,h5,Ne5,Nxe5,fxe5,Qc7,Bf4,g5,Bg3,h4,Be1,Qxe5,c3,Bd6,g3,hxg3', 'Bxg3,Qg7,Bxd6', 'https://lichess.org/training/j67j9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j67Jr', 'Blitz', 'NM ThunderClap', 2291, 'hitry_tatarin', 2299, 'Nf3,d5,d4,Nf6,c4,e6,g3,Be7,Bg2,O-O,O-O,dxc4,Qc2,a6,Qxc4,b5,Qc2,Bb7,Bg5,Be4,Qd1,c5,dxc5,Qxd1,Rxd1,Bxc5,Nc3,Bb7,Ne5,Bxg2,Kxg2,Ra7,e3,Nbd7,Nxd7,Nxd7,Ne4,Bb4,a3,Ba5,Be7,Re8,Bd6,Nf6,Nxf6+,gxf6,Rac1,Rd7,Bc5,Red8,Rxd7,Rxd7,Rc2,Kg7,Kf3,Kg6,g4,h5,gxh5+,Kxh5,e4,Rd3+,Be3,Rb3,Rc6,Rxb2,Rxa6,Bc3,Ra7,Kg6,Rb7,Rb3,Kg4,Bb2,Bc5,f5+,exf5+,exf5+,Kf4,f6,h4', 'Be5#', 'https://lichess.org/training/j67Jr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J69i5', 'Rapid', 'Chesspaski', 1600, 'LISCIIO', 1747, 'd4,e5,Nf3,e4,Nfd2,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Qa4+,Nc6,e3,Bd7,Qb3,Be7,Nxd5,Nxd5,Qxd5,f6,Nxe4,Nb4,Nd6+', 'Bxd6,Qxd6,Nc2+,Kd2,Nxa1', 'https://lichess.org/training/J69i5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J6aUy', 'Bullet', 'DeepVerne', 1680, 'boefje', 1662, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bg4,c4,Nf6,Be2,e6,Nc3,Bb4,O-O,Bxc3,bxc3,c5,Re1,O-O,Bg5,cxd4,cxd4,h6,Bh4,Nbd7,Qd3,Bf5,Qb3,b6,Ne5,Qc7,Qg3,Ne4,Qf4,g5,Bxg5,Nxg5,h4,Nxe5,hxg5,hxg5,Qg3,Rac8,dxe5,Qe7,f4,g4,Bxg4,Bxg4,Qxg4+,Kh8,Qh5+,Kg7,Rac1,Rg8,f5,exf5,Qxf5,Kf8,e6,f6,Red1,Rc5,Qe4,Rcg5,Rd2', 'Qc5+,Rf2,Rxg2+,Qxg2,Rxg2+,Kxg2,Qg5+', 'https://lichess.org/training/J6aUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J6cLz', 'Classical', 'smohsenim', 1618, 'wojtekbrze', 1618, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,c3,a6,a3,Bc5,b4,Bb6,b5,axb5,Bxb5,Na5,Ne2,c6,Ba4,d6,h3,O-O,O-O,Nh5,d4,Nc4,Bb3,Be6,d5,cxd5,exd5,e4,Qxe4,Qc8,Bxc4,Bxh3,gxh3,Qxh3,Qg2,Qh4,Bg5,Qxc4,Ng3,Nxg3,Qxg3,Ra4,Be3,Bxe3,fxe3,Qxd5,Rf4,Qd1+,Rf1,Qe2,Qf2,Rg4+,Kh1,Qc4,Nd2,Qd5+,e4', 'Qh5+,Qh2,Rh4', 'https://lichess.org/training/J6cLz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j6cPQ', 'Rapid', 'sanjeethajarnis', 1718, 'Jovic16', 1713, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,b4,cxb4,cxb4,Bxb4+,Bd2,Nxd4,Nxd4,Qxd4,Bxb4,Qxb4+,Nd2,Ne7,Rb1,Qd4,Bb5+,Nc6,O-O,Qxe5,Nf3,Qd6,Re1,O-O,Bxc6,bxc6,Ne5,f6,Ng4,Rb8,Rc1,c5,Qa4,Rf7,Ne3,Rb4,Qa3,e5,Red1,d4,Nc4,Qa6,Qd3,Qxa2,Nd6,Ba6,Qe4,Rd7,Nf5,Bb7,Qg4,Ba6', 'Nh6+,Kh8,Qxd7', 'https://lichess.org/training/j6cPQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J6cYa', 'Rapid', 'anthonychess30', 1633, 'Cayhnos', 1650, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bd3,e4,Nxe4,Nxe4,Bxe4,Qe7,Qe2,g6,Nc3,Bg7,Bf3,Qxe2+,Nxe2,O-O,d3,Re8,Bd2,b6,d6,c6,Bxa5,bxa5,Bxc6,Rxe2+,Kxe2,Rb8,d7,Ba6,d8=Q+,Rxd8,Kd2,Rd6,Bf3,Bxb2,Rab1,Bf6,Rb3,Kg7,Rhb1,Bd4,c3,Bxf2,Ra3,Rxd3+,Ke2', 'Rxc3+,Kxf2,Rxa3', 'https://lichess.org/training/J6cYa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J6D9K', 'Rapid', 'yuppiyee', 1913, 'Aouj', 1946, 'd4,d5,Bf4,Nc6,e3,a6,Nd2,Bf5,c3,h6,Ngf3,Nf6,Be2,Qd7,Qb3,O-O-O,c4,e6,cxd5,exd5,Ne5,Nxe5,Bxe5,Bd6,Nf3,Bxe5,Nxe5,Qe6,Rc1,Rd6,h3,Nd7,Qc3,c6,f4,g5,g4,Be4,f5,Qf6,Rf1,h5,b4,Re8,a4,Nxe5,dxe5,Rxe5,b5,d4,exd4,Re7,bxa6,bxa6,Bxa6+,Kd7,Kf2,hxg4,hxg4,Qh6,Qg3,Rxd4,Rfd1,Qf6,Rxd4+,Qxd4+,Qe3,Qb2+,Be2,Bd5,Qd3,Rxe2+,Qxe2,Qb4,Rd1,Qf4+,Ke1,Qh2,Rxd5+,cxd5,Qb5+,Kd6', 'Qb8+,Kc5,Qxh2', 'https://lichess.org/training/J6D9K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j6E9o', 'Rapid', 'derAlteSchachSpieler', 1902, 'pavel19371', 1974, 'e4,g6,d4,Bg7,c4,c6,Nf3,d6,Be2,Nf6,Nc3,O-O,Bg5,Ne8,Qd2,f6,Bh6,e6,Bxg7,Nxg7,h4,Nd7,g4,f5,Ng5,Qe8,h5,h6,Nxe6,Qxe6,hxg6,fxe4', 'Qxh6,Qxg6,Qxg6', 'https://lichess.org/training/j6E9o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j6EVN', 'Rapid', 'ingjama1', 2077, 'TEJASLOH', 1674, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,Nd2,b5,a3,Nbd7,f3,Rc8,Be2,Be7,O-O,O-O,Na2,Qc7,c3,Nb6,Nb4,Qb7,Nb3,Nc4,Bxc4,Bxc4,Rf2,Rfd8,Na5,Qa8,a4,d5,axb5,Bxb4,cxb4,Bxb5,Bc5,dxe4,Qe1,exf3,Rxf3,e4,Rxf6,gxf6,Be7,Qa7+,Bc5,Qd7,Qg3+,Kh8,h3,Qd3,Qf4,Rg8,Qxf6+,Rg7,Bd4,Rg8,Rc1,Qd2', 'Qxg7+,Rxg7,Rc8+,Be8,Rxe8#', 'https://lichess.org/training/j6EVN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J6f3D', 'Rapid', 'jeanpaulatorre', 1633, 'MirekVeverka', 1675, 'e4,d5,Bd3,dxe4,Bxe4,Nf6,Qe2,e5,c3,Bd6,h3,O-O,Qf3,Nxe4,Qxe4,Nc6,Ne2,Qf6,O-O,Bf5,Qf3,e4,Qe3,Ne5,Ng3,Nc4,Qe1,Qe6,Kh2,h5,b3,h4,bxc4,hxg3+,fxg3,g6,Ba3,Bxa3,Nxa3,Kg7,Nb5,Qd7,Qe3,Rh8,Nd4,Bxh3,gxh3', 'Qxh3+,Kg1,Qh2#', 'https://lichess.org/training/J6f3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j6g1u', 'Rapid', 'deepan88', 2128, 'cache-invalidation', 2174, 'e4,e5,Nf3,f5,Nc3,Nf6,Nxe5,d6,Nf3,fxe4,Qe2,Qe7,Ng5,Bf5', 'Qb5+,Nbd7,Qxf5', 'https://lichess.org/training/j6g1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J6nhK', 'Rapid', 'Mkrt4an', 1629, 'monkeybrain182', 1641, 'd4,d5,c4,e6,Nc3,c6,Nf3,Bd6,e3,Ne7,Bd3,Nd7,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,c5,O-O,Qc2,g6,b4,Nf5,e4,Nd4,Qd2,Qh4,g3,Nf3+,Kg2,Qxh2+,Kxf3,dxe4+,Bxe4,f5,Bd5+,Kg7,Bc4,Bxg3,fxg3,Qh5+,Kg2,f4,Qd4+,Rf6,Rxf4,Qh3+,Kf3,Bg4+,Ke3', 'Qxg3+,Kd2,Qxf4+,Qxf4,Rxf4', 'https://lichess.org/training/J6nhK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J6oPA', 'Rapid', 'HiddenPet', 1926, 'mkaabi10', 2016, 'c4,e5,g3,g6,Bg2,Bg7,e3,c6,Ne2,d5,cxd5,cxd5,d4,e4,O-O,Nc6,f3,f5,Nbc3,Nf6,Bd2,O-O,fxe4,fxe4,Nf4,g5,Nh5,Bg4', 'Nxf6+,Rxf6,Qxg4', 'https://lichess.org/training/J6oPA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j6pM1', 'Rapid', 'yietxil', 1610, 'eltaureau', 1640, 'c4,c5,Nc3,Nf6,e3,e6,a3,Be7,h3,O-O,Nf3,d5,cxd5,exd5,Bd3,c4,Bc2,Be6,d4,cxd3,Bxd3,Re8,O-O,Nc6,e4,d4,e5,Nd7,h4,Ndxe5,Bxh7+,Kh8,Ng5,Bxg5,Qh5,Bh6,Bxh6,Kxh7', 'Bg5+,Kg8,Bxd8', 'https://lichess.org/training/j6pM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J6skt', 'Rapid', 'BaselRukaia', 1625, 'WilliamDann', 1619, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,c4,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,d5,exd5,cxd5,cxd5,Qxd5,Qxd5,Nxd5,Bxe5,O-O,Be2,Re8,Bg3,Ba6,O-O-O,Rxe2,Rxd5,Rae8,Rd7,h6,Rxa7,Bd3,Rc7,Be4,f3,Bg6,Rg1,Ra8,a3,Rb8,b4,Ra8,Rc3,Ra2,Rd1', 'Ra1+,Kd2,Rd8+', 'https://lichess.org/training/J6skt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j6sWr', 'Classical', 'It-is-so-good', 1922, 'RheannRhenz', 2132, 'd4,Nf6,Nf3,g6,e3,Bg7,c4,O-O,b3,c6,Bb2,d5,Be2,Bf5,Nc3,Nbd7,O-O,Re8,Ne5,a5,Bf3,Qc7,cxd5,Nxe5,dxe5,Qxe5,dxc6,bxc6,Bxc6,Ng4,g3,Red8,Qf3,Rac8,Na4,Qxb2,Nxb2,Ne5,Qg2,Nxc6,Rac1,Nb4,Rxc8,Rxc8,Nc4,Nxa2,Nxa5,Nc3,Qb7,Rc5,f3,Rxa5,Kg2,h5,Rf2,Nd1,Qxe7,Nxf2', 'Qd8+,Bf8,Qxa5', 'https://lichess.org/training/j6sWr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j6Tv0', 'Blitz', 'fabriciocampidelli', 1530, 'tasyo', 1536, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,d6,d3,Be6,Nd5,h6,Be3,Bb4+,c3,Ba5,Qd2,Nf6,O-O,O-O,Bxh6,gxh6,Qxh6,Nxd5,Ng5,Nf6,f4,Bxc4,fxe5,Nxe5,Rxf6,Re8,Qh7+,Kf8,Rxf7+,Bxf7,Qh6+,Ke7,Rf1,Rf8,d4,Ng4', 'Rxf7+,Rxf7,Qe6+,Kf8,Qxf7#', 'https://lichess.org/training/j6Tv0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J6UEX', 'Rapid', 'aomrane_94', 1801, 'bek13', 1807, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,e5,Nfd7,Ne2,e6,Nf4,Bb4+,Nc3,b6,Nd3,Be7,d5,exd5,Nxd5,O-O,Nxe7+,Qxe7,Bd2,Nxe5,Nxe5,Qxe5+,Be2,Ba6,Be3,Bxe2,Qxe2,Nc6,O-O,Nd4,Qg4,Nc2,Bf4,Qe4,Rac1,c5,Kh1,Rae8,f3,Qe2,Bh6,g6,Bxf8,Kxf8,Qa4,Ne3,Rg1,Qf2,Qxa7,Nf5,Qb7,Re5,Rgf1', 'Ng3+,hxg3,Rh5#', 'https://lichess.org/training/J6UEX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j6UZ9', 'Blitz', 'RapisRazuli', 2214, 'IM Filemon64', 2370, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Nc6,Ndf3,Nb6,Bd3,Bd7,Ne2,Rc8,O-O,cxd4,Nexd4,g6,h4,h5,Ng5,Be7,Qf3,Nxd4,cxd4,a6,Qg3,Bxg5,fxg5,Bb5,Bd2,Bxd3,Qxd3,Qd7,Bb4,Qb5,Qd2,Nc4,Qe1,Nxb2,Rxf7,Kxf7,Bd6,Rc2,Qg3,Ke8,Qf4,Qd7,Qf6,Rg8', 'Rf1,Rc1,Rxc1', 'https://lichess.org/training/j6UZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j6WTx', 'Blitz', 'Bazilo', 1951, 'Muhendis13', 1939, 'e4,d5,exd5,Nf6,d4,Bg4,Be2,Bxe2,Nxe2,Qxd5,O-O,Nc6,c3,O-O-O,Qb3,Qh5,Ng3,Qd5,Nd2,e6,Nf3,Bd6,Be3,Ne4,c4,Qa5,Nxe4,f5,Nxd6+,Rxd6,c5,Rd5,a3,h6,Qc4,g5,b4,Qa4,g3,Rhd8,Rfd1,Na5,Qa2,Nb3,Rab1,Nxd4,Bxd4,e5,Nxe5,Rxe5,Rd2,Red5,Rbd1,f4,Kg2,g4,Rd3,f3+,Kg1,Rxd4,Qe6+,Kb8,R1d2,Rxd3,Rxd3', 'Qd1+,Rxd1,Rxd1+,Qe1,Rxe1#', 'https://lichess.org/training/j6WTx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j6yFX', 'Blitz', 'jayanthc9999', 1651, 'Menoetios', 1616, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Bd3,c5,dxc5,Bxc5,Nf3,Qb6,Qe2,O-O,Bf4,h6,O-O-O,Nc6,Qd2,Bxf2,Bxh6,gxh6,Kb1,Be3,Qe2,f5,exf6,Nxf6,g4,Nxg4,Rhg1,h5,h3,Bxg1,Rxg1,Rxf3,Rxg4+,hxg4,Qg2,Kf7,Qxg4,Qf2,Qg6+,Ke7,Qg7+,Kd6,Nb5+,Kc5,Qc3+,Kb6,a4,a6', 'a5+,Nxa5,Qc7#', 'https://lichess.org/training/j6yFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j6ZGW', 'Blitz', 'SmittyWerbenXD', 1752, 'mischon86', 1647, 'd4,g6,c4,Bg7,Nf3,Nf6,Nc3,d6,Bg5,O-O,e3,Nc6,Bd3,h6,Bf4,g5,Nxg5,hxg5,Bxg5,Nh7,Qh5,f5,g4,Qe8,Qh4,Nxg5,Qxg5,Qf7,Nd5,e6,Nf4,Nb4,Bb1,Qf6,h4,Qxg5,hxg5,fxg4,g6,e5,Nh5,exd4,a3,Nc6,Be4,dxe3,Bd5+,Kh8,Nf6+,Bh6,Rxh6+,Kg7,Rh7+,Kxg6,Ke2,Rxf6,Rah1,Kf5,Kxe3,Ke5,Be4,Bf5,Re7+,Be6', 'Rh5+,Rf5,Rxf5#', 'https://lichess.org/training/j6ZGW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j70Hs', 'Blitz', 'naotomate', 1582, 'AlexXxBeck', 1624, 'd4,d5,c4,e6,cxd5,exd5,Nc3,c5,e3,cxd4,exd4,Nc6,Nf3,Nf6,Bd3,Bb4,a3,Bd6,O-O,O-O,Bg5,Bg4,h3,Bh5,Re1,Bc7,b4,Bxf3,Qxf3,Nxd4,Qd1,Qd6,Bxf6', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/j70Hs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J70nC', 'Rapid', 'elpeliqan', 1759, 'migu3l86', 1904, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bc4,Bc5,Nc3,O-O,O-O,d6,Bg5,h6,Bf4,Bg4,Qd2,a5,Rfe1,Nh5,h3,Be6,Bd3,Qf6,Be3,Bxe3,Qxe3,Nf4,Ne2,Nxd3,cxd3,Rab8,b3,Rb5,Rac1,c5,Ng3,Qg6,f4,f5,exf5,Bxf5,Nxf5,Qxf5,Rc4,d5,Rc2,Kh8,Rf1,c4,dxc4,dxc4,Rxc4,Rb4,Rxb4,axb4,Qe7,c5,g4,Qf7,Qxc5,Qb7,f5,Rc8,Qe5,Rc2,Rf2,Rc1+,Kh2', 'Qh1+,Kg3,Rc3+', 'https://lichess.org/training/J70nC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J7apk', 'Rapid', 'c72', 2001, 'Vikont54', 1811, 'e4,e6,d4,c5,c3,cxd4,cxd4,Qa5+,Nc3,Nf6,Bd3,Nc6,Nf3,Bb4,O-O,Bxc3,bxc3,Qxc3,Be3,Ng4,Rc1,Qa5,d5,exd5,exd5,Qxd5,Bc5,b6,Re1+,Nce5,Nxe5,Nxe5,Bd6,Qxd6,f4,Qd4+,Kh1,O-O', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/J7apk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J7b5Y', 'Rapid', 'stick123', 1864, 'stelios1923', 1612, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Bb4,a3,Bxc3+,bxc3,Nbd7,Nf3,O-O,e3,c6,Be2,Qa5,Qc2,Ne4,Rc1,Nxg5,Nxg5,Nf6,a4,h6,Nf3,Ne4,O-O,Bd7,Ne5,Be8,f3,Nf6,cxd5,cxd5,c4,Rc8,Qb2,Bc6,cxd5,Bxd5,Bb5,a6,Bc4,Bxc4,Nxc4,Qxa4', 'Nb6,Rxc1,Nxa4', 'https://lichess.org/training/J7b5Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j7Cnc', 'Rapid', 'Manurung', 1917, 'j0hncap0ne', 1783, 'e4,c5,Bc4,Nc6,Nf3,d6,d3,g6,a3,Bg7,O-O,Nf6,h3,O-O,Bf4,Nh5,Bc1,a6,c3,Bd7,Be3,b5,Ba2,h6,Qb3,Be6,Qd1,Bxa2,Rxa2,Kh7,Qd2,e6,Nh2,Ne5,f4,Nc6,Ng4,f5,exf5,exf5,Nh2,Re8,Rf3,Qd7,Qf2,Na5,Nd2,Re7,Ra1,Rae8,Re1,d5,b4,d4,cxd4,cxd4,bxa5,dxe3,Rfxe3,Bd4,Rxe7+,Rxe7,Rxe7+,Qxe7,Qxd4,Qe1+,Ndf1,Ng3,Qf2', 'Ne2+,Qxe2,Qxe2', 'https://lichess.org/training/j7Cnc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J7DRT', 'Blitz', 'Kairais', 1730, 'Yaroslav_Soldatov', 1751, 'd4,d5,c4,e5,cxd5,Qxd5,dxe5,Qxe5,Qa4+,Bd7,Nf3,Qxe2+,Bxe2,Bxa4,b3,Bc6,Bb2,Nd7,Ne5,Nxe5,Bxe5,O-O-O,Nc3,f6,Bf4,Bb4,Rc1,Ne7,O-O,Ng6,Bg3,h5,h4,Nf8,Bc4,Bd6,Rfd1,Bxg3,Rxd8+,Kxd8,fxg3,Nd7,Rd1,Re8,Bf7,Re5,Kh2,Ke7,Bg6,Nc5,Kh3,Ne4,Nxe4,Bxe4,Bxe4,Rxe4,Rd2,Re6,g4,Re3+,g3,g6,gxh5,gxh5,Kg2,Rc3,Kf2,c5,Kg2,b5,Kh3,a5,Rd5,a4,bxa4,bxa4,Rxh5,Ra3,Rxc5,Rxa2,Ra5,Ra1,h5,a3,h6,a2,Kg4,Kf7,h7,Kg7,Ra7+,Kh8,Ra6,f5+,Kg5,f4', 'Kg6,Rd1,Ra8+,Rd8,Rxd8#', 'https://lichess.org/training/J7DRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j7Ix8', 'Bullet', 'Alexandercamcap', 1784, 'Bhekumuzi', 1719, 'e4,d5,exd5,Qxd5,d4,c6,Nf3,Nf6,Nc3,Qa5,Bc4,e6,O-O,Be7,Re1,O-O,Bd2,Nbd7,Nd5,Qd8,Nxe7+,Qxe7,Ne5,Nxe5,dxe5,Nd5,Qg4,Rd8,Bg5,f6,Bh4,Qf7,exf6,Nxf6,Bxf6,Qxf6,Bxe6+,Bxe6,Rxe6,Qxb2,Rae1,Qxc2,Re7,Qc3', 'Qe6+,Kh8,Re8+,Rxe8,Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/j7Ix8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J7kyd', 'Blitz', 'IM abricot', 2490, 'IM sillyMASTER', 2677, 'e4,e5,Nf3,Nc6,Be2,Nf6,d3,g6,O-O,Bg7,c3,O-O,b4,a6,a3,d5,Nbd2,h6,Bb2,Be6,Re1,Re8,Bf1,Qd7,Qc2,Rad8,Rad1,Nh5,Nb3,b6,Nbd2,Nf4,exd5,Bxd5,c4,Be6,Nxe5,Nxe5,Bxe5,Bxe5,Rxe5,Bg4,Rxe8+,Rxe8,f3,Qd4+,Kh1,Bd7,Ne4,f5,Qc3', 'Rxe4,Qxd4,Rxd4', 'https://lichess.org/training/J7kyd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j7lO9', 'Rapid', 'Denchik1998', 1611, 'hrshn', 1624, 'd4,d6,Bf4,g6,e3,Bg7,Nf3,Nf6,Bd3,Bg4,h3,Bxf3,Qxf3,O-O,Qxb7,Nbd7,b3,c5,O-O,Nh5,Bg3,Nxg3,fxg3,cxd4,e4,Ne5,Nd2,Nxd3,cxd3,Qa5,b4,Qa3,Rf3,Rac8,Nc4,Qc3,Raf1,Rxc4,dxc4,Qxc4,Qxe7,d3,Qxd6,Bd4+,Kh2,d2,Rd1,Bc3,Rxc3,Qxc3,Qxd2,Qc4,Re1,Re8,Qd5', 'Qxd5,exd5,Rxe1', 'https://lichess.org/training/j7lO9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J7mDF', 'Rapid', 'Elimar-Carvalho', 1666, 'ebrahimsamy25', 1660, 'g3,d5,Bg2,e5,d4,e4,e3,Bb4+,c3,Ba5,Ne2,Nf6,O-O,Bg4,Nd2,Bxe2,Qxe2,O-O,b4,Bb6,a4,a5,Ba3,axb4,Bxb4,Re8,a5,Ba7,Nb3,Nc6,Nc5,Nxb4,cxb4,b6,axb6,Bxb6,Rxa8,Qxa8,Qb5,Bxc5,bxc5,c6,Qb2,Rb8', 'Ra1,Qxa1+,Qxa1', 'https://lichess.org/training/J7mDF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J7nsY', 'Classical', 'Danyal_amygh', 1856, 'galix90', 1757, 'e4,c5,f4,d6,Nc3,g6,d3,Bg7,Nf3,Nc6,Be2,Nf6,O-O,O-O,h3,a6,Be3,Qc7,g4,b5,Qe1,b4,Nd5,Nxd5,exd5,Nd8,Rb1,Bb7,Qh4,f6,f5,g5,Bxg5,fxg5,Nxg5,h6,Nh7,Kxh7,g5,Bd4+,Kh2,Be5+,Kg1,Rg8', 'Qxh6#', 'https://lichess.org/training/J7nsY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j7oia', 'Blitz', 'davidebxl', 1838, 'foxeg', 1862, 'd4,c6,c4,d5,Bf4,Nf6,Nc3,e6,Nf3,Bd6,Qd2,c5,e3,Nc6,Bxd6,Qxd6,Nb5,Qe7,Bd3,a6,Nc3,O-O,O-O,b6,Rfe1,Bb7,b3,dxc4,bxc4,Rad8,Rad1,cxd4,exd4,h6,Bc2,Nb4,Bb1,Bxf3,gxf3,Qc7,a3,Nc6,Ne4,Rxd4,Qc2,Rxd1', 'Nxf6+,gxf6,Qh7#', 'https://lichess.org/training/j7oia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J7ozM', 'Rapid', 'IvanG2020', 1819, 'nik854', 1833, 'd4,e5,dxe5,d6,exd6,Bxd6,g3,h6,Bg2,Nf6,c3,Nc6,e4,O-O,Be3,Ne5,f3,Be6,Nd2,Nc4,Nxc4,Bxc4,b3,Be6,Ne2,Qd7,O-O,Bh3,Nf4,Bxg2,Kxg2,b6,Nd5,Nh5,g4,c6,gxh5,cxd5,Qxd5,Qe7,Qf5,Qh4,e5,Bc7,Bd4,g6,hxg6,fxg6,Qe6+,Kg7,Qd7+,Kg8,Qd5+,Kh7,Qd7+,Kg8,Qxc7,Rae8,Qc4+,Kh7,Qc7+,Kg8,Rae1,Qg5+,Kf2,Qd2+,Re2,Qf4,Qc4+,Kh7,Be3', 'Qxf3+,Ke1,Qxf1+', 'https://lichess.org/training/J7ozM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J7PGj', 'Rapid', 'Eltes', 1781, 'R1ckz', 1868, 'e4,c5,e5,d5,d4,e6,Nf3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,Ne7,dxc5,Nf5,b4,Be7,c3,O-O,h3,Nh4,Nxh4,Bxh4,f4,f5,Nd2,Qc7,Qh5,Bd8,Nf3,Qf7,Qxf7+,Rxf7,Kh2,Rb8,a3,a5,Bd2,a4,g4,Ba6,Rg1,Be2,Kg3,fxg4,hxg4,h6,Rg2,Bc4,Be3,Rbb7,Nd2,Bd3,Kf3,g5,Kg3,Kg7,Rh2,Rbd7,Rah1,gxf4+,Bxf4,Be4,Nxe4,dxe4,Re2', 'Rd3+,Re3,Rxe3+,Bxe3,Rf3+,Kg2,Rxe3', 'https://lichess.org/training/J7PGj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j7QR4', 'Rapid', 'iuriipoi', 1952, 'Muschemer', 1773, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,dxe5,fxe5,Bf5,Nf3,Nc6,d5,Nb4,Na3,e6,Bg5,Qd7,dxe6,Qxd1+,Rxd1,Bxe6,b3,Nxa2,Nb5,Rc8', 'Nxc7+,Rxc7,Rd8#', 'https://lichess.org/training/j7QR4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j7S2P', 'Rapid', 'ALEX1917', 1671, 'blindfold1200', 1701, 'e4,c5,b3,Nf6,d3,Nc6,Bb2,d6,h3,g6,Nf3,Bg7,Be2,O-O,Nc3,e6,O-O,d5,e5,Nd7,d4,Ne7,Nb5,cxd4,Bxd4,b6,c3,Nb8,Nd6,Ba6,Bxa6,Nxa6,Ng5,Nc5,Qf3,Nf5,Ngxf7,Rxf7,Nxf7,Nxd4,cxd4,Qe7,dxc5,Qxf7,Qxf7+,Kxf7,f4,bxc5,Rac1,Bf8,g4,h5,g5,a5,h4,Ke8,Rc2,Kd7,Rfc1,a4,Kg2,a3,Rc3,Rb8,Kf3,Rb4,Ke3', 'd4+,Kf3,dxc3', 'https://lichess.org/training/j7S2P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j7sxF', 'Blitz', 'physicist81', 1920, 'ahmdshak', 1666, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,c4,e5,Qd1,Nf6,Nc3,Be7,Bg5,O-O,Be2,a6,O-O,h6,Bxf6,Bxf6,Nd5,Be6,Nxf6+,Qxf6,Qxd6,Rfd8,Qb4,Rab8,Rad1,Qf4,Bf3,Bg4,Bxg4,Qxg4,f3,Qf4,Rxd8+,Rxd8,Qxb7,Qe3+,Kh1,Rd2,Qc8+,Kh7,Qf5+,Kg8,Qxe5,Re2,Qg3,Rxb2,h3,Rxa2,Rd1,Qe2,Rd8+,Kh7,Qg4,Qxc4,Qf5+,g6,Qe5', 'Qf1+,Kh2,Rxg2#', 'https://lichess.org/training/j7sxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J7uGZ', 'Blitz', 'bugagam', 1777, 'harrysoms', 1753, 'Nf3,Nc6,d4,d5,g3,Bf5,Bg2,Nf6,O-O,e6,Re1,Be7,Bg5,O-O,Nc3,Ng4,Bxe7,Nxe7,e4,dxe4,Nxe4,Ng6,Nc5,Rb8,h3,Nf6,g4,Nxg4,hxg4,Bxg4,Qd3,Nf4,Qe4,Qf6,Nd7,Qh6,Nxf8,Nxg2,Qxg4,Nxe1,Rxe1,Rxf8,Kg2,f5,Qg5,Rf6,Qxh6,Rxh6,c4,Rg6+,Kf1,Kf7,Nd2,h5,f4,Rg4,d5,Rxf4+,Kg2,exd5,cxd5,Rd4,Nf3,Rxd5,Ng5+,Kf6,Nf3,Rb5,Re2,g5,Kg3,h4+,Kh2,g4,Nxh4,Kg5,Ng2,f4,Re4,f3,Ne3,Rxb2+,Kg3,f2,Rxg4+,Kf6,Rf4+,Ke5', 'Nc4+,Kd5,Nxb2,f1=R,Rxf1', 'https://lichess.org/training/J7uGZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j7XDG', 'Blitz', 'Cristo29', 1725, 'wannighlili12345', 1781, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,a3,h6,h3,a6,d3,d6,b4,Ba7,Bb2,O-O,O-O,Kh7,Qd2,Nd4,Nxd4,Bxd4,Rab1,c6,Ne2,Ba7,Ng3,Be6,Qc3,Rc8,Bc1,d5,exd5,cxd5,Qxe5,dxc4,dxc4,Bxc4,Qf5+,Kg8,Re1,Be6,Qf3,Kh8,Bb2,Rxc2,Kh1,Rxf2,Qxb7,Bb8,Ne4,Bd5,Qxa6,Nxe4', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/j7XDG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j7yTn', 'Rapid', 'YouTouchMyTraLaLa', 1870, 'Denapoli', 1912, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,e6,Nf3,Bb4,e5,Nd5,Qc2,Nc6,a3,Bxc3+,bxc3,O-O,Bd3,h6,O-O,a6,a4,f6,Ba3,Nce7,exf6,Nxf6,Rfe1,Nfd5,Ne5,Nf4,Bc4,Rf6,Re3,Nf5,Ree1,Nh4,g3,Nf3+', 'Nxf3,Nh3+,Kg2', 'https://lichess.org/training/j7yTn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J7ZmO', 'Rapid', 'TerryFarthing', 1788, 'fortune-kook', 1686, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,e6,Nc3,Ne7,Bc4,a6,O-O,Nbc6,d5,Na5,dxe6,Nxc4,exf7+,Kxf7,Qb3,b5,Bg5,h6,Bxe7,Kxe7,Nd5+,Ke8,Rac1,Bxb2', 'Rxc4,bxc4,Qxb2', 'https://lichess.org/training/J7ZmO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J7zUb', 'Rapid', 'andersamancha', 1643, 'rtop', 1653, 'e4,e5,Nc3,c6,Nf3,Qc7,d4,exd4,Nxd4,Nf6,Bd3,Bc5,Be3,O-O,g3,d5,exd5,Bxd4,Bxd4,Re8+,Be3,Bg4,f3,Bh5,g4,Bg6,Qd2,cxd5,O-O-O,Nc6,g5,d4,Bxd4,Bxd3,gxf6,Nxd4,Qxd3,Rad8,Rhg1,Ne2+,Qxe2,Rxe2,Nxe2,g6,Nc3,Re8,Rge1,Rc8,Rd2,Qf4', 'Nd5,Qxf3,Ne7+', 'https://lichess.org/training/J7zUb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J817S', 'Classical', 'Brandon-Sa', 1965, 'christianmacias', 1901, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be2,e6,c4,a6,Nc3,Ne7,O-O,Nbc6,Be3,O-O,Qd2,Re8,Rad1,Qa5,a3,Rb8,Nb3,Qc7,Nc5,b6,Nb3,f5,exf5,Nxf5,Bf4,e5,Nd5,Qd8,Bg5,Nfe7,Bf6,d6,Qg5,Be6,Bf3,h6,Bxe7,Nxe7,Nxe7+,Qxe7,Qxe7,Rxe7,Rxd6,Bxc4,Bd5+,Bxd5,Rxd5,Kf7,Rfd1,Rc8,Nd2,Rc2,b4,Ra2,Nc4,b5,Nd6+,Kg8,Nc8,Rc7,Rc5,Rxc5,bxc5,Rxa3,c6,Rc3,g3,Rxc6', 'Ne7+,Kf7,Nxc6', 'https://lichess.org/training/J817S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J89TF', 'Rapid', 'Lincon23', 1882, 'WizardChess765', 1829, 'e4,c5,c4,e6,b3,a6,Bb2,Nf6,d3,d6,e5,dxe5,Bxe5,Bd6,Bb2,O-O,Nf3,Re8,Ne5,Bxe5,Bxe5,Qa5+,Nc3,b5,cxb5,axb5,Bxf6,gxf6,Qd2,b4,Ne4,Kg7,Qe3,Bb7,Qg3+,Kf8,Nxf6,Nc6,Nxe8,Kxe8,Be2,Nd4,Bd1,Ke7,O-O,Rf8,Qh4+,Kd6,Qxh7,Qd8,Qh6,Rg8,g3,Rg6,Qf4+,Ke7,Qh4+,Rf6,Bh5,Qd5,f3,Ne2+,Kg2,Qxd3,Rad1,Qc2,Rd7+,Kxd7,Qxf6', 'Nf4+,Kg1,Qg2#', 'https://lichess.org/training/J89TF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j8akC', 'Blitz', 'modro787', 1569, 'Sametkaratepe', 1628, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,dxc6,c3,Bd6,O-O,e5,d3,h6,Be3,f5,Qc2,Nf6,exf5,Bxf5,Nh4,Bh7,f4,O-O,f5,Nd5,Ng6,Bxg6,fxg6,Nxe3,Rxf8+,Qxf8,Qe2,Qf4,Nd2,Rf8,Nf3,e4,dxe4,c4,e5,Bxe5,Nxe5,Qxe5,Re1,Re8,Qf2,Qg5', 'Qf7+,Kh8,Qxe8#', 'https://lichess.org/training/j8akC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8apS', 'Rapid', 'fateomine', 1698, 'LUCANDREA', 1611, 'e4,e5,c4,Nc6,g3,Bc5,Bg2,Nf6,Ne2,d6,O-O,Bg4,Kh1,Bxe2,Qxe2,Nd4,Qd1,O-O,Nc3,a6,b3,Qd7,Bb2,Rfe8,a3,c6,b4,Ba7,d3,Qe6,f4,Rad8,f5,Qd7,Bh3,Qc7,Bc1,h6,Ne2,d5,c5,dxe4,Nxd4,exd4,Bf4,Qd7,dxe4,Nxe4,Qf3,f6,Rfe1,Nc3,Qg4,Qd5+,Bg2,Qf7,Bd6,Bb8,Qxd4,Nb5,Qg4,Rxe1+,Rxe1,Bxd6,cxd6,Rxd6,Re6,Rd4,Qe2,Rd7,Qg4,Nxa3,h3,Nb5,Qg6,Qxg6,fxg6,Rd8,Kg1,Kf8,Kf2,Re8,Rxe8+,Kxe8,Ke3,Nd6,Kd4,Nf5+,Kc5,Kd8,Kb6,Kc8,g4,Nd4,Be4,Ne6', 'Bf5,Kd7,Kxb7', 'https://lichess.org/training/J8apS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8Eb4', 'Rapid', 'dragansrbija', 1961, 'blndchss', 1961, 'd4,f5,c4,e6,Nf3,Nf6,g3,c6,Bg2,d5,cxd5,cxd5,O-O,Be7,Nc3,O-O,a3,b6,b4,a5,b5,Nbd7,a4,Bb7,Ba3,Rc8,Bxe7,Qxe7,Qb3,Rc4,e3,Rfc8,Ne2,Ne4,Rfc1,Qf8,Rxc4,Rxc4,Rc1,Rxc1+,Nxc1,Qc8,Ne2,Kf7,Ne5+,Nxe5,dxe5,Qc4,Qd1,Qc7,f4,Qc5,Qd4,Qxd4,exd4,Nd2,Kf2,Nc4,h3,Bc8,g4,g6,gxf5,gxf5,Nc3,Bd7,Nxd5', 'exd5,Bxd5+,Be6', 'https://lichess.org/training/J8Eb4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8eCd', 'Rapid', 'Doncyrleone', 2060, 'WaterFromStone', 2174, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,Na5,Be2,a6,Qd2,h6,f3,b5,O-O,Qc7,Rfd1,Bb7,Rac1,Nc4,Bxc4,Qxc4,e5,Nd5,Ndxb5,Nxe3', 'Qxd7+,Kf8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/J8eCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8EcF', 'Blitz', 'FM Al_Shima', 2406, 'Baxchiparizh', 2431, 'b3,d5,Bb2,c5,e3,Nc6,f4,Nf6,Nf3,e6,Bd3,Be7,O-O,O-O,Ne5,Qc7,Rf3,Ne4,Rh3,f5,Qh5,h6,Nxc6,bxc6,Bxe4,dxe4,Bxg7,Kxg7,Qxh6+,Kf7,Qh5+,Kf6,Rg3,Bd6,Rg6+,Kf7,Rh6+,Ke7,Rh7+,Kd8,Rxc7,Kxc7,Nc3,Bd7,d3,exd3,cxd3,Rh8,Qf3,Rag8,Rc1,e5,Na4,exf4,exf4,Rg4,Rc4,Be6,h3,Bd5,hxg4,Bxf3,gxf3,Rg8,g5,Re8,Kf2,Rh8,Kg3,Rh1,Nxc5,Rg1+,Kf2,Ra1,a4,Rb1,g6,Rb2+,Kg1,Rb1+,Kh2,Rb2+,Kh3,Rb1,Kh4,Rg1,g7,Bxc5,Rxc5,Rxg7,Rxf5,Kd6,Rf8,Rg1,f5,Ke5,f6,Ke6,Kh5,Rh1+,Kg6,Rg1+,Kh5,Kf5,Kh4,Kf4,Kh5,Kf5,Kh6,c5,f7,Kf6,Rg8', 'Rh1#', 'https://lichess.org/training/J8EcF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8GTz', 'Rapid', 'King-of-Kings', 1626, 'shanmukh999', 1605, 'e3,e5,d4,d6,dxe5,Nc6,exd6,Bxd6,Nc3,Nf6,h3,O-O,a3,Be6,Bb5,Ne5,Nge2,c5,O-O,c4,Nd4,Qc8,Nxe6,Qxe6,f4,Ng6,f5,Qe5,fxg6,Qh2+,Kf2,fxg6,Bxc4+,Nd5+,Ke1,Bg3+,Ke2,Qxg2+,Kd3,Rxf1,Bxd5+', 'Qxd5+,Nxd5,Rxd1+', 'https://lichess.org/training/J8GTz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j8HIW', 'Classical', 'danmanning', 1624, 'SuperGnom', 1749, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,e6,Bd3,Ne7,Bf4,Bxd3,Qxd3,Nd5,Bd2,Bd6,Ne4,Be7,g3,Nd7,a3,N7f6,Ne5,Nxe4,Qxe4,Nf6,Qd3,Qd5,O-O-O,Rd8,c3,Ne4,Be3,Nc5,Qe2,Nb3+,Kc2,Na5,c4,Qe4+,Kc3,c5,f3', 'cxd4+,Bxd4,Qxe2', 'https://lichess.org/training/j8HIW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8LkW', 'Blitz', 'GM Yuriy_Ayrapetyan', 2546, 'Vasilij91', 2158, 'e4,c5,Nc3,Nc6,f4,e5,Nf3,Nf6,Bc4,exf4,O-O,Be7,d3,d6,Bxf4,O-O,a3,a6,Qe1,b5,Bb3,Nh5,Bd2,Nd4,Nxd4,cxd4,Nd5,Bb7,Nxe7+,Qxe7,Rf5,g6,Rxh5,gxh5,Bh6,Kh8,Qf2,Rg8,Qxd4+,Qe5,Qxe5+,dxe5,Bxf7,Rgc8,Bb3,Rc7,Rf1,Re8,Bg5,Kg7,Rf5,Bc8,Bf6+,Kg6,Rxe5,Rxe5,Bxe5,Re7,Bc3,Be6,Bxe6,Rxe6,Kf2,Kg5,Bd2+,Kf6,Bf4,Rc6,c3,a5,d4,b4,Be5+,Kf7,axb4,axb4,d5,Rc4,Ke3,bxc3,Bxc3,Ra4,e5,Rg4,g3,h4,Kf3,h5,Be1,Rd4,d6,Ke6,Bc3,Rg4,Be1,Kxe5', 'd7,Rd4,Bc3,Ke6,Bxd4', 'https://lichess.org/training/J8LkW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8Nmo', 'Rapid', 'tommyxd', 1853, 'Mikhil-k', 2014, 'd4,c6,c4,d5,Nf3,Bg4,Ne5,Bf5,Nc3,e6,Qb3,Qb6,c5,Qxb3,axb3,f6,Nf3,Ne7,Bf4,Nd7,h3,e5,dxe5,Nxc5,exf6,gxf6,b4,Ne4,e3,Ng6,b5,Nxf4,exf4,Bb4,Rc1,Ke7,Nd4,Bd7,bxc6,bxc6,Ba6,c5,Nb5,Bxb5,Bxb5,d4,Bc6,Nxc3,bxc3,Bxc3+,Rxc3,dxc3,Bxa8,Rxa8,O-O,Rb8,Rc1,Rb3,Kf1,Kd6,Ke2,c4,Ke3,f5,Kd4,Rb2,Kxc4,Rxf2,Kxc3,Rxg2,Rd1+,Kc5,Rd3,Rf2,Rd7,Rf3+,Kd2,Rxh3,Rxa7,Kd5,Re7,Kd4,Ke2,h5,Kf2,Ra3,Rh7,Ke4,Rxh5,Kxf4,Rh4+,Kg5,Rh8,Kg4,Rg8+,Kf4,Rf8,Ra2+,Ke1,Ke3,Rxf5', 'Ra1#', 'https://lichess.org/training/J8Nmo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j8oVf', 'Blitz', 'Winni6711', 1965, 'aditya_13', 1922, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nc3,Qc7,Qe2,Be7,Bg5,Nbd7,Bb5,a6,Bxf6,Bxf6,Bxd7+,Bxd7,O-O-O,b5,f4,b4,Nb1,O-O,g4,Bxd4,Rxd4,Bb5,Qd2,Rac8,Rxd6,a5,Rd1,a4,h4,b3,axb3,axb3,c3,Ra8,g5,Ra1,g6,Qa5,gxf7+,Kh8,Rd8', 'Rxb1+,Kxb1,Qa2+,Kc1,Qa1#', 'https://lichess.org/training/j8oVf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j8QcP', 'Blitz', 'jin_GODER', 2222, 'Adjie_BKD', 2179, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,Bd7,O-O-O,Rc8,Bb3,Ne5,h4,Nc4,Bxc4,Rxc4,h5,Nxh5,g4,Nf6,Bh6,Nxe4,Qe3,Rxc3,bxc3,Nf6,Bxg7,Kxg7,Qh6+,Kh8,Nf5,Rg8,Qxh7+,Nxh7', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/j8QcP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8qFq', 'Rapid', 'MattschRoe', 1633, 'MBRoetgen', 1875, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,h6,Bxf6,Bxf6,Rc1,c5,Be2,dxc4,Bxc4,cxd4,exd4,Bd7,O-O,Bc6,Ne5,Qb6,Nxf7,Kxf7,Qh5+,g6,Qg4,Bd7,d5,exd5,Bxd5+,Kg7,Qg3,Na6,Be4,Bg5,Nd5,Qd4,Rce1,Bc6,Qd6,Rad8', 'Qxg6+,Kh8,Qh7#', 'https://lichess.org/training/J8qFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8QNu', 'Rapid', 'CKAMAKAWA', 1949, 'mrmaccc', 1896, 'd4,Nf6,Bg5,Ne4,Bh4,g6,Nd2,d5,Nxe4,dxe4,e3,Bg7,c3,b6,Qc2,Bb7,Nh3,O-O,Be2,c5,O-O-O,Qc7,dxc5,Qxc5,Bg3,Qc6,Ng5,Nd7,h4,h5,f4,Nc5,f5,Rad8,fxg6,fxg6,Rxd8,Rxd8,Rd1,Rxd1+,Qxd1,Qd5,Qf1,Qxa2', 'Bc4+,Bd5,Bxa2', 'https://lichess.org/training/J8QNu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j8QQk', 'Rapid', 'misozezelj', 1986, 'sayedshoaib01', 1996, 'd4,c5,d5,Qc7,c4,a6,Nc3,e5,e4,d6,Nf3,h6,h3,b6,Bd3,Bb7,O-O,Nd7,b3,Ngf6,Bb2,Nh5,Ne2,Ndf6,Qd2,g5,Nh2,Nf4,Nxf4,gxf4,g4,Rg8,f3,h5,Kh1,hxg4,fxg4,O-O-O,Rxf4,exf4', 'Bxf6', 'https://lichess.org/training/j8QQk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8sPP', 'Rapid', 'WendersonAires', 1901, 'AdVv', 1861, 'c4,Nf6,Nc3,e6,g3,d5,Bg2,c6,cxd5,cxd5,d3,Bb4,Bd2,O-O,Nf3,Nc6,O-O,a6,a3,Be7,Rc1,b5,Rc2,Bb7,Qc1,Na5,Nd4,e5,Nf5,Nb3,Qd1,Nxd2,Nxe7+,Qxe7,Qxd2,Rac8,Rfc1,d4,Nd5,Nxd5,Bxd5', 'Rxc2,Rxc2,Bxd5', 'https://lichess.org/training/J8sPP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8su8', 'Rapid', 'rtynfdh', 2144, 'ja0602', 2232, 'd4,Nf6,c4,e6,Nf3,b6,e3,Bb7,Bd3,d5,Qc2,Nbd7,Nbd2,Bd6,O-O,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Nf6,Qh4,c5,dxc5,Bxc5,Bg5,Be7,Rfd1,Qc7,Rac1,e5,Bxf6,Bxf6,Qe4,Rad8,b3,g6,h4,Kg7,h5,Rxd1+,Rxd1,Rd8,Rxd8,Qxd8,Nxe5', 'Qd1+,Kh2,Qxh5+', 'https://lichess.org/training/J8su8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8tdU', 'Classical', 'sciezk', 1805, 'gladuz', 1765, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,Nbd2,Be7,Bd3,Bxd3,cxd3,O-O,Rc1,c6,O-O,Bd6,Bg5,h6,Bh4,Nbd7,e4,e5,exd5,cxd5,dxe5,Nxe5,d4,Ng6,Qb3,Nxh4,Nxh4,h5,Nf5,Bf4,Rc2,Qd7,Ne3,Rac8,Rfc1,Ng4,Nf3,Rxc2,Rxc2,Rc8,Qxd5,Rxc2', 'Qxd7,Rc1+,Nf1', 'https://lichess.org/training/J8tdU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J8uZN', 'Rapid', 'Kizes86', 1626, 'Institut', 1717, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,d4,exd4,Nxd4,Bd7,Bg5,Be7,Nc3,O-O,Nxc6,Bxc6,Bc4,Bxe4', 'Bxf6,Bxf6,Nxe4', 'https://lichess.org/training/J8uZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j8x5R', 'Rapid', 'Abdesslam', 1823, 'babaorum', 1800, 'd4,c5,Nf3,e6,a3,Nf6,Bg5,h6,Bh4,Be7,e3,O-O,Nc3,d5,dxc5,Bxc5,Ne5,Nc6,Nxc6,bxc6,Bd3,Bd6,O-O,e5,h3,e4,Be2,Qe7,Qd4,Bc5,Qd2,Qe5,Bg3,Qe6,Na4,Bb6,Nxb6,axb6,c3,c5,b4,Nh7,bxc5,bxc5,Bg4,Qg6,Bxc8,Raxc8,Qxd5,Rfd8,Qc4,Nf6,Bh4,Re8,Bxf6,Qxf6,a4,Qb6,a5,Qa7,a6,Rc6,Rfb1,Ree6,Rb7,Qa8,Rab1,Qxa6,Rb8+,Rc8', 'Qxa6,Rxa6,Rxc8+', 'https://lichess.org/training/j8x5R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j8ytE', 'Blitz', 'Iyanhappy', 1766, 'blancdauphin', 1832, 'd4,c6,Nf3,d5,e3,Nf6,Bd3,g6,Nbd2,Bg7,c3,O-O,Qe2,Bg4,e4,Nbd7,h3,Bxf3,Qxf3,dxe4,Nxe4,Nxe4,Qxe4,e5,O-O,exd4,cxd4,Re8,Qg4,Nb6,Be3,Nd5,Rad1,Nxe3,fxe3,Rxe3,Qf4,f5,Rfe1,Bxd4,Rxe3,Qe7,Re1,Qc5,Kh1,Bxe3,Qxe3,Qxe3,Rxe3,Rc8,Re7,b6,Rxa7,c5,Rb7,c4,Bc2,Rd8,Rxb6,Rd2,Ba4,h5,Rxg6+,Kh7,Rc6,h4,Rxc4,Rxb2,Rxh4+,Kg6,Bb3,Kg5,Rh8,Kf4,h4,Kg3,Rg8+,Kxh4,Rf8,Kg3,Rxf5', 'Rb1+,Bd1,Rxd1+,Rf1,Rxf1#', 'https://lichess.org/training/j8ytE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j906T', 'Rapid', 'gewure', 1616, 'DrAlgebra', 1824, 'e4,e5,Nf3,Nc6,Bb5,d5,exd5,Qxd5,Nc3,Qe6,O-O,Bd7,Bxc6,Bxc6,Re1,Bd6,d4,Bxf3,Qxf3,O-O-O,d5,Qe8,a4,Nf6,Ne4,Nxe4,Qxe4,g6,b4,f5,Qc4,e4,Bg5,Rd7,Rad1,h6,Be3,f4,Bxa7,g5,Rxe4,Qh5,f3,g4,fxg4,Qxg4,Rde1,Rg8,Re8+,Rd8,Rxd8+,Kxd8,Qe2,f3,Qf2,Qxg2+,Qxg2,Rxg2+,Kf1,Bxh2,Bf2,h5,Re3,Bg3', 'Rxf3,Rxf2+,Rxf2', 'https://lichess.org/training/j906T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j91A8', 'Rapid', 'Turan2080', 1682, 'dadac', 1682, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nf3,Nf6,e5,Qa5+,Bd2,Qb6,exf6,Qxb2,Bc3,Qb6,fxg7,Bxg7,Bxg7,Rg8,Bc3,Nc6,g3,Be6,Bg2,O-O-O,O-O,Rde8,Qxd6,Bc4,Rc1,Rg6,Qf4,Rge6,Qxc4,Re2,Qxf7,c4,Qxc4', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/j91A8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j93h2', 'Rapid', 'Aviking342526', 1903, 'mehlmichzu', 1906, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nf3,Bg4,Bc4,c6,O-O,e6,Nxd5,cxd5,Bb3,Bd6,c3,Nc6,d4,Qc7,h3,Bh5,Qd3,O-O-O,Re1,h6,Ne5,Bxe5,dxe5,Nxe5,Qd4,f6,f4,Nc6,Qf2,Rhe8,Qh4,Bf7,Qg4,g5,fxg5,hxg5,Rf1,Ne5,Qe2,f5,Bxg5,Rd7,Bf4,Qb6+,Kh1,Ng6,Ba4,Nxf4,Bxd7+,Kxd7,Rxf4,Rh8,Rd1,Bh5,Rxd5+,exd5,Qd2,Qe6,c4,Re8,Kh2,Kd6,Qb4+,Ke5,Rf1,Kf6,cxd5,Qe5+,Kg1,Be2,Qh4+,Kg6,Re1,Qxd5,Qg3+,Kf6,Qc3+,Re5,Qg3,Qd4+,Kh1,Qxb2,Qh4+,Ke6,Qh6+,Kd5,Qg7,Qd2', 'Qd7+,Kc5,Qxd2', 'https://lichess.org/training/j93h2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j94aQ', 'Rapid', 'VonHammer', 1768, 'LOVBIT', 1640, 'e4,Nc6,Nf3,e5,c3,Bc5,Bb5,a6,Bxc6,bxc6,O-O,d6,h3,Nf6,d3,O-O,Re1,Nh5,Be3,Bxe3,fxe3,f5,Nxe5,dxe5,Qxh5,fxe4,d4,Qf6,Nd2', 'Qf2+,Kh1,Qxd2', 'https://lichess.org/training/j94aQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J94tt', 'Rapid', 'mehmet09', 1963, 'prafultewari', 1981, 'd4,d5,Nf3,c6,Bf4,Bf5,e3,e6,Nbd2,h6,c3,Nf6,Qb3,Qc8,a4,a6,c4,Be7,Rc1,O-O,cxd5,exd5,Bd3,Bxd3,Qxd3,Nbd7,O-O,Bb4,Ne5,Nxe5,Bxe5,Qe6,Nf3,Nd7,Qb3,a5,h3,c5,Bg3,c4,Qc2,Rac8,Ne5,Nxe5,Bxe5,f6,Bg3,c3,bxc3,Rxc3,Qg6,Qd7,Rxc3,Bxc3,Rc1,Bb4', 'Rc7,Qxc7,Bxc7', 'https://lichess.org/training/J94tt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J98R5', 'Rapid', 'canteran', 1683, 'ykarapinar', 1713, 'd4,d6,c4,g6,Nc3,Bg7,Bf4,Bf5,e3,Nd7,Nf3,e6,Bd3,Ne7,O-O,O-O,h3,c5,e4,cxd4,Ne2,e5,exf5,exf4,Nxf4,Nxf5,Bxf5,gxf5,Nh5,Qb6,Nxg7,Kxg7,Nxd4,Qxb2,Nxf5+,Kg8,Qg4+,Kh8,Nxd6,Ne5,Qf5,Qd4,Qf6+,Kg8,Nf5', 'Nf3+,gxf3,Qxf6', 'https://lichess.org/training/J98R5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j99XH', 'Rapid', 'cajohnm', 1821, 'info82', 1939, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ng5,h6,Nxf7,Kxf7,Qxg4,Qf6,Bc4+,Ke7,O-O,Nc6,Rxf4,Qg7,Rf7+,Qxf7,Bxf7,Kxf7,Qf5+,Ke8,Qg6+,Kd8,c3,Nge7,Qg3,d6,d4,Rg8,Qd3,a6,Bf4,Ng6,Bg3,Be7,h5,Nf8,Kh2,Bg4,e5,Bxh5,exd6,cxd6,Nd2,Nd7,Ne4,Bg6,Qe3,Bxe4,Qxe4,Nf6,Qe6,Kc7,d5,Ng4+,Kg1,Bf6,dxc6,bxc6,Qxd6+,Kb6,Bf2+,Nxf2,Kxf2,Raf8,Kg1,h5,Rf1,Bg7,Rxf8,Rxf8,Qe7,Bh6,Qh7,Be3+,Kh2,Rf6,Qe7,Bg5,Qg7,Bf4+,Kh1', 'Be5,Kg1,Rf1+,Kxf1,Bxg7', 'https://lichess.org/training/j99XH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j9aYu', 'Rapid', 'filipjovicccc', 1734, 'McMicko', 1777, 'd4,d5,Bf4,Nf6,Nf3,Nc6,e3,e6,Bb5,Bd7,O-O,h6,Nbd2,g5,Bg3,g4,Ne1,h5,f3,h4,Bf4,g3,h3,Qe7,c4,Nh5,Be5,Nxe5,dxe5,dxc4,Bxc4,O-O-O,Qc2,Bc6,Rb1,Bg7,f4,f6,b4,fxe5,b5,Bd5,Rc1,exf4,exf4,Bd4+,Kh1,Bb6,a4,Bxc4,Nxc4,Qc5,Qe4,Rd4,Qxe6+,Kb8,Nf3,Rxc4,Rxc4,Nxf4,Qf7,Rf8,Re1,a6,Rxc5,Rxf7,Re8+,Ka7,Rce5,Nd3,Re2,Nf2+,Kg1,Rd7,Kf1,Nd3,Ne5,Nxe5,R8xe5,Rd1+,Re1,Rd4,R5e4,Rd3,Rxh4,Ba5,Re7', 'Rd1+,Ke2,Re1+,Kf3,Rxe7', 'https://lichess.org/training/j9aYu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j9Ez2', 'Rapid', 'emel', 1958, 'lego2009', 1757, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,c5,Bg5,Nc6,cxd5,exd5,Bxf6,gxf6,dxc5,Bxc5,Qxd5,Qa5,Qe4+,Be6,e3,f5,Qc2,Bb4,Bd3,O-O-O,O-O,Rhg8,Ne2,Qd5,Ned4,Bc5,Bb5,a6,Bxc6,bxc6,Rfd1,Bxd4,Rxd4', 'Qxf3,Rxd8+,Kxd8', 'https://lichess.org/training/j9Ez2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J9fwP', 'Rapid', 'arsenalfanrichi', 1916, 'lolochess640', 1830, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,c4,a6,Nc3,Qc7,Be2,Nf6,O-O,Bb4,Nxc6,bxc6,Qc2,d5,cxd5,cxd5,exd5,Nxd5,Qa4+,Bd7', 'Nxd5,Bxa4,Nxc7+', 'https://lichess.org/training/J9fwP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j9gct', 'Classical', 'GoldshteinSkieS74', 1653, 'lauty47', 1859, 'd4,Nf6,c4,e6,Nf3,d5,g3,Be7,Bg2,O-O,O-O,c5,cxd5,Nxd5,e4,Nf6,Nc3,cxd4,Nxd4,e5,Ndb5,a6,Qxd8,Bxd8,Nd6,Be7,Nc4,Nc6,Be3,Be6,Nb6,Rad8,Rad1,Ng4,Nbd5,Nxe3,Nxe3,Nd4,Ned5,Bc5,h4,b5,a3,Rd7,Kh2,Rfd8,Rd2,f6,Rfd1,Bg4,Rf1,a5,f3,Be6,b4,axb4,axb4,Ba7,Rfd1,Kf7,f4,Bg4,Rf1,Ke6,Bh3,Bxh3,Kxh3,h5,fxe5,fxe5,Rdf2,Bb8', 'Rf6+,gxf6,Rxf6#', 'https://lichess.org/training/j9gct');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J9gTg', 'Rapid', 'bojong', 1886, 'Donciccio22', 1754, 'e4,e6,Nf3,Ne7,d4,d5,e5,f6,exf6,gxf6,Nh4,h5,Bb5+,c6,Bd3,f5,Bg5,Bh6,Bf6,Rh7,Qxh5+,Kd7,Ng6', 'Bd2+,Nxd2,Rxh5', 'https://lichess.org/training/J9gTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j9HN0', 'Rapid', 'BerndHeld', 2091, 'FM Iniciativa', 2356, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Be2,Bd6,O-O,Ne7,Ne5,Bxe2,Qxe2,O-O,Nc3,c6,Re1,Nf5,Qg4,g6,Ne2,Na6,c3,Nc7,Nf4,Qf6,Nh5,Qh4,Qxh4,Nxh4,Nf6+,Kg7,Neg4,Nf5,Nd7,Rfe8,Nde5,f6,Nf3,Rxe1+,Nxe1,Re8,Nf3,Nh4', 'Bh6+,Kf7,Nxh4', 'https://lichess.org/training/j9HN0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J9IGw', 'Rapid', 'Zekavip', 1859, 'skittlebrau', 1860, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qh5+,g6,Qxc5,Qe7,Qxc3,Nf6,O-O,d6,Bg5,Ne5,Nxe5,dxe5,f4,Nxe4,Qxe5', 'Qxe5,fxe5,Nxg5', 'https://lichess.org/training/J9IGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J9J6K', 'Rapid', 'itsmagic', 2040, 'shaxMSTAtist', 2006, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Bd7,Nf3,Bc6,Bd3,Nd7,Qe2,Be7,O-O,Ngf6,c3,O-O,Rd1,Nxe4,Bxe4,Bxe4,Qxe4,c6,Ne5,Nxe5,Qxe5,Bf6,Qe2,Qc7,g3,Rad8,Bf4,Qa5,a3,Rd5,Be5,Bxe5,dxe5,Rxe5,Qf3,Rd5,c4,Rxd1+,Rxd1,Rd8,Qb3,Rxd1+,Qxd1,Qc7,b4,Kf8,Kf1,Ke7,Qd4,f6,Qxa7,Qd7,Kg2,e5,h3,Kf7,a4,e4,a5,Ke6,g4,Qd3,Qxb7,Qf3+,Kg1,Qd1+,Kh2,Qd6+,Kg2,e3,fxe3,Qd2+,Kf3,Qd1+,Ke4,Qh1+,Kd4', 'c5+,Kxc5,Qxb7', 'https://lichess.org/training/J9J6K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J9Klk', 'Blitz', 'samaantal1', 1774, 'jkeys89', 1761, 'e4,g6,Bc4,e6,c3,Bg7,Nf3,d6,d4,Ne7,Bd3,Nd7,h3,h6,O-O,O-O,Nh2,e5,d5,f5,exf5,Nxf5,Qg4,Qf6,Qe2,Nc5,Ng4,Qe7,Bxf5,Bxf5,Bxh6,Bd3,Qd2,Bxf1,Kxf1,Qh4,Bxg7,Kxg7,Qe3,Rf4,Kg1,Raf8,g3,Rxg4,hxg4,Qxg4,Nd2,e4,Re1,Nd3,Qd4+,Kg8,Rxe4', 'Qd1+,Nf1,Rxf2,Qxf2,Nxf2', 'https://lichess.org/training/J9Klk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j9M1n', 'Blitz', 'gkhnlts', 1660, 'Roggy1991', 1847, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,Nxc6,Bb5,e5,d3,Bc5,Bg5,O-O,Nf3,a6,Bxc6,bxc6,Ne4,Bb6,Nxf6+,gxf6,Bh6,Re8,Qd2,Kh8,O-O-O,f5,Rhe1,f6,Nh4,f4,g3,f5,gxf4,Qxh4,fxe5,Be6,Bg5,Qh5,Bf6+,Kg8,Rg1+,Kf8,Bg7+,Kf7,Rg5,Qf3,Bf6,Rg8,Rh5,Qxh5,Qb4,Bd8,Qb7+,Kg6,Rg1+,Kh6,Rxg8,Bxf6,Rxa8,Bxe5,Qxc6', 'Bf4+,Kb1,Qd1#', 'https://lichess.org/training/j9M1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j9MbY', 'Rapid', 'ykpylmz', 1672, 'Milad-sardari', 1655, 'e4,e5,Nf3,d6,h3,h6,Bc4,Be7,c3,Nf6,d3,Nc6,O-O,Na5,Bb3,Nxb3,axb3,Be6,c4,Qd7,Nc3,Bxh3,gxh3,Qxh3,Nh2,Qd7,Nd5,a6,Nxe7,Qxe7,Be3,O-O-O,b4,g5,b5,axb5,cxb5,g4,b6,c6,Nxg4,Rhg8,f3,h5,Kf2,hxg4,fxg4,Nxg4+,Ke2,Nxe3,Kxe3,Qg5+,Ke2,Qh5+,Kd2,Rg2+,Kc3,Qxd1,Raxd1,Rf8,Ra1,Kb8,Ra7,Rg6', 'Rfa1,Kc8,Ra8+,Kd7,Rxf8', 'https://lichess.org/training/j9MbY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j9o7C', 'Classical', 'countercountergambit', 1612, 'Deannabelle', 1633, 'e4,e5,Nf3,d6,d4,exd4,Bc4,Be7,O-O,c5,c3,dxc3,Nxc3,a6,b3,Nc6,Bb2,Bg4,Nd5,Bf6,Nxf6+,Nxf6,e5,Bxf3,Qxf3,dxe5,Rad1,Qc7,Qe3,Nd4,Bxd4,cxd4,Rxd4,O-O,Rh4,Rad8,Rc1,Qe7,Qh3,Rc8', 'Bxf7+,Kxf7,Rxc8', 'https://lichess.org/training/j9o7C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('J9OFQ', 'Classical', 'squalchess', 1838, 'ada500', 1780, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,Qb3,Qe7,O-O,dxc3,Nxc3,Bxc3,Qxc3,Nf6,e5,Ne4,Qe3,Nc5,Ba3,b6,Rfe1,Bb7,Rab1,d6', 'exd6,Qxe3,Rxe3+', 'https://lichess.org/training/J9OFQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('j9Wpr', 'Rapid', 'ehsaan2020', 2034, 'KosharniyA1999', 2090, 'c4,c6,Nc3,d5,d4,Nf6,Nf3,e6,Bg5,h6,Bxf6,Qxf6,e3,g6,Bd3,Bg7,cxd5,exd5,O-O,O-O,Ne5,Nd7,f4,Qe7,Qf3,Nxe5,fxe5,f5,Qg3,Qe8,a3,Be6,Ne2,g5,h4,Qh5,hxg5,hxg5,Kf2,f4,exf4,gxf4,Nxf4', 'Rxf4+,Qxf4,Rf8,Kg1,Rxf4', 'https://lichess.org/training/j9Wpr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JA0gS', 'Rapid', 'GangBanga', 1724, 'RooksKnightmare', 1670, 'e4,c5,Nf3,a6,Nc3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Bb7,Be3,Nf6,Qf3,Bb4,Bg5,d5,O-O-O,Qa5,Bxf6,Bxc3,bxc3,dxc4,Bxg7,Qa3+,Kd2,O-O-O+,Ke2,Rhg8,Qf5+,Kb8,Bxe5+,Ka8,Rxd8+,Rxd8,Qxf7,Qxa2,Rc1,Qa5,Bd4,c5,Bf6,Rb8,Qxh7,Qb6,Be5,Re8,f4,Qe6,Qf5,Qg8,g4,Rf8,Qg5,Qh7,f5,Bxe4,h4,Re8,Qf6,Qg8,Ra1', 'Qxg4+,Ke1,Qg1+', 'https://lichess.org/training/JA0gS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JA0n2', 'Blitz', 'DharkStar', 2029, 'romasa', 1975, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,Ngf6,Bd2,e6,Qe2,Be7,O-O-O,O-O,Ne5,Nxe5,dxe5,Nd5,c4,Nb6,Bxh6,Qc7,Bd2,Rfd8,Bc3,Rxd1+,Rxd1,Na4,Bd4,c5,b3,Qa5,Ba1,Nc3,Bxc3,Qxc3+,Kb1,a5,f4,a4,Ne4,Qb4,Qd2,Qb6,Qb2,axb3,Qxb3,Qc6,Qd3,Rd8,Qxd8+,Bxd8,Rxd8+,Kh7', 'Ng5+,Kh6,Rh8#', 'https://lichess.org/training/JA0n2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ja204', 'Blitz', 'CM Alejandropacheco29', 2422, 'Gran_panda', 2246, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,a3,c6,Bd3,g6,Ne2,Bg7,O-O,O-O,b4,Qd8,Bf4,Nbd7,h3,Nb6,Bh2,Nbd5,Ne4,Nxe4,Bxe4,Nf6,Bd3,Re8,c3,Nd7,f4,Nf6,Qc2,Nd5,Rf3,a5,Raf1,axb4,axb4,Ra3,f5,Bd7,fxg6,hxg6,Rxf7,Nf6,Bxg6,Be6,Rxg7+,Kxg7,Bxe8,Qxe8,Nf4,Bc4,Re1,Qf7,Qf5,Kf8,Ng6+,Kg7,Rxe7', 'Ra1+,Kf2,Rf1+', 'https://lichess.org/training/ja204');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ja7E5', 'Rapid', 'laruletapeligrosa', 1876, 'Daniel_B', 1946, 'Nf3,d5,c4,c6,b3,Bf5,Nc3,e6,d3,Nf6,Bb2,Be7,g3,Nbd7,Bg2,h6,O-O,O-O,Rc1,a5,a3,Bd6,Qc2,Qe7,a4,Nb6,Nh4,Bh7,e4,dxe4,Nxe4,Nxe4,dxe4,g5,Nf3,Nd7,Bc3,e5,Rfe1,f6,Rcd1,Nc5,Nd2,Rfd8,Nf1,Ne6,Ne3,Bb4,Nf5,Bxf5,exf5,Bxc3,Qxc3,Rxd1,Rxd1,Nd4,Qd3,Rd8,Qb1,Qd7,Kh1,Qxf5', 'Qxf5,Nxf5,Rxd8+', 'https://lichess.org/training/ja7E5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jaah4', 'Rapid', 'Dominique61', 2089, 'nilanjans2022', 2165, 'd4,d5,Nf3,Bf5,e3,h6,Bd3,Qc8,Qe2,c5,c3,Bxd3,Qxd3,c4,Qc2,e6,Nbd2,a5,e4,a4,exd5,exd5,O-O,Bd6,Re1+,Ne7,Ne5,b5,Nf1,O-O,Ng3,b4,Qe2,a3,Qh5,axb2,Bxb2,bxc3,Bxc3,Ra3,Bd2,Nbc6,Nxc6,Qxc6,Re2,c3,Bxh6,gxh6,Qg4+,Kh8,Nh5,Rg8,Qh4,Rg5,f4,Ng6,Qh3,c2,Rc1,Rxa2,fxg5,Nf4,Nxf4,Bxf4,Qxh6+', 'Qxh6,gxh6,Bxc1', 'https://lichess.org/training/Jaah4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jaaY1', 'Rapid', 'Tinkerfan', 1761, 'mohamed6alembel7acem', 1873, 'e4,e5,c3,d5,Qa4+,Bd7,Qb3,dxe4,Bc4,Ke7,Qb4+,Ke8,Qb3,Qe7', 'Qxb7,Nc6,Qxa8+', 'https://lichess.org/training/jaaY1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JABjo', 'Rapid', 'zechariah_2007-lotfy', 2224, 'the_brave_soldier', 2189, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,Nf6,Nf3,Ne4,Ne5,Nxg3,hxg3,c5,c3,Nc6,Nd2,Nxe5,dxe5,Bxe5,Nf3,Bf6,Qc2,Qc7,Rxh7,Rxh7,Qxh7,g6,Bd3,Bd7', 'Qg8+,Ke7,Qxa8', 'https://lichess.org/training/JABjo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jactl', 'Rapid', 'lainem23', 2026, 'AntisReborn', 2025, 'e4,c5,Nf3,Nc6,Bb5,e6,O-O,Nf6,Re1,d5,e5,Nd7,d4,a6,Bxc6,bxc6,c3,Be7,Be3,cxd4,cxd4,O-O,Nbd2,a5,Rc1,Qc7,Qc2,Bb7,Ng5,Bxg5,Bxg5,Rac8,Be7,Rfe8,Bd6,Qb6,Nb3,Ba6,Re3,Bc4,Rc3,Bxb3,Rxb3,Qxd4,Rd3,Qe4,f3,Qf5,Rc3,Nxe5,Bxe5,Qxe5,Rxc6,Rxc6,Qxc6,Rd8,Qb6,Rb8,Kh1,Qe1+,Rxe1,Rxb6,Rc1,Kf8,b3,g5,Kg1,Rb8,Kf2,Rb7,Kg3,h5,Rc5,Ke7,Rxa5,d4,Rc5,Ra7,a4,Rb7,Rc4,d3,Rd4,Rxb3,a5,Ra3,a6,Rxa6,Rxd3,Ra4,Rd2,f5,Rb2,Kf6,Re2,h4+,Kf2,g4,fxg4,Rxg4,Kf3,e5,Ra2,e4+,Kf2,Kg5,Ra8,Kf4,Ra4,Rg7,Ra2,Rb7,Rc2,Rb1,Ra2,Rh1,h3,Rh2', 'Kg1,Rxh3,gxh3', 'https://lichess.org/training/Jactl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JaD6j', 'Rapid', 'zokoo', 1643, 'vdunu', 1679, 'e4,e5,Nf3,Qf6,Bc4,d6,d3,h6,Be3,Be7,Nc3,c5,Nd5,Qg6,g3,Bd8,Qe2,Bh3,O-O-O,Ne7,Rhg1,Nbc6,a3,O-O,Kb1,a6,c3,b5,Nxe7+,Bxe7,Ba2,Qf6,Nd2,Qg6,f4,Bg4,Qg2,Bxd1,Rxd1,exf4,Bxf4,Rab8,h4,Qg4,Rf1,b4,axb4,cxb4,Kc2,bxc3,bxc3,a5,Nc4,a4,Nxd6,Bxd6,Bxd6,a3,Bxb8,Rxb8,Bxf7+,Kh7,Bb3,Na5,Rb1,Qc8,e5,Qa6,Bg8+,Kxg8,Rxb8+,Kh7,Qe4+,g6,h5,a2,Qd4,Qc6,hxg6+,Kxg6,Qe4+', 'Qxe4,dxe4,a1=Q', 'https://lichess.org/training/JaD6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jAdfT', 'Rapid', 'Namrob', 2112, 'DambaevDashi', 2168, 'e4,e5,f4,exf4,Nf3,Nc6,Be2,d6,d4,Nf6,Nc3,Be7,Bxf4,O-O,O-O,d5,e5,Ne4,Be3,Be6,Bd3,Nxc3,bxc3,f6,Bf4,Bg4,exf6,Bxf6,Qd2,Qd7,Rab1,b6,Bb5,a6,Ba4,b5,Bb3,Na5,Ne5,Bxe5,Bxe5,Nc4,Bxc4,dxc4,Qg5,c6,h3,Be6,Rbe1,Rf5,Qg3,Raf8,Rxf5,Bxf5,Bd6,Rd8', 'Re7,Qxe7,Bxe7', 'https://lichess.org/training/jAdfT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jaekf', 'Rapid', 'immelnikoff', 1747, 'sinkadus', 1837, 'e4,g6,d4,Bg7,e5,e6,f4,Ne7,Nf3,O-O,Bc4,d6,O-O,Nbc6,c3,dxe5,fxe5,b6,Bg5,Bb7,Nbd2,Na5,Bd3,Qd7,Ne4,h6,Bf6,Nd5,Nfd2,Ne3,Qf3,Nxf1,Rxf1,c5,dxc5,Bxe4,Nxe4,bxc5,Nxc5,Qc6,Ne4,Nc4,b3,Nxe5,Bxe5,Bxe5', 'Nf6+,Bxf6,Qxc6', 'https://lichess.org/training/jaekf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jaFI3', 'Classical', 'y_zahoo', 1681, 'asderappo', 1641, 'd4,d5,c4,dxc4,e4,b5,Nc3,Bd7,a4,c6,axb5,cxb5,Bd2,e6,Nf3,Nf6,e5,Nd5,Nxd5,exd5,g3,Nc6,Bg2,Bb4,Bxb4,Nxb4,b3,Nd3+,Ke2,Bg4,bxc4,bxc4,Qa4+,Qd7,Qxd7+,Bxd7,Ne1,Nxe1,Rhxe1,O-O,Bxd5,Bb5,Bxa8,c3+,Kd1,Rxa8,Kc2,Rc8,Rxa7,g6,Rea1,Kg7,Ra8,Rc4,R1a3,Bc6,Rc8', 'Be4+,Kc1,Rxc8', 'https://lichess.org/training/jaFI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jafJu', 'Blitz', 'marty2063', 1986, 'rasmadeus', 2172, 'Nf3,Nf6,b3,b6,Bb2,Bb7,e3,e6,d4,d6,c4,Be7,Bd3,Nbd7,Nc3,c5,Qc2,a6,a4,Rc8,dxc5,Nxc5,Be2,Qc7,b4,Ncd7,Qd2,O-O,h4,d5,Rc1,Qb8,h5,dxc4,h6,g6,Qd4,Bxb4,Kf1,e5,Qh4,Be7,Qh3,Rfe8,g4,Nc5,Rg1,Nd3,Bxd3,cxd3,Rd1,e4,Nd4,Bf8,Nf5,Nd5,Nxd5,Bxd5,Qh4,Re6,Ng7,Rec6,Nf5,Rc2,Qf6,Rxb2', 'Ne7+,Bxe7,Qg7#', 'https://lichess.org/training/jafJu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jafrj', 'Rapid', 'MIVALOLA', 2012, 'fxveinte', 1926, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Ba4,b5,Bb3,Nxb3,axb3,d6,h3,Nf6,d3,Be7,O-O,O-O,Nbd2,h6,Re1,Bb7,Nf1,Re8,Ng3,Bf8,Nf5,g6,Nxh6+,Bxh6,Bxh6,d5,exd5,Nxd5,Nxe5,Qh4,Bd2,Re6,Qf3,Rf6,Qg4', 'Qxf2+,Kh2,Qxd2', 'https://lichess.org/training/jafrj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jAGa7', 'Rapid', 'lavla', 1894, 'Fedorov-Sergey', 1754, 'e4,e6,g3,b6,Bg2,Bb7,d3,Ne7,Nf3,Ng6,O-O,d5,Nbd2,dxe4,Nxe4,Bxe4,dxe4,Qxd1,Rxd1,Bc5,Nd4,O-O,e5,c6,Nxc6,Nxc6,Bxc6,Rac8,Bb7,Rc7,Ba6,Nxe5,Bf4,f6,c3,Rd7,Bxe5,Rxd1+,Rxd1,fxe5,Rd2,e4,Re2,e3,fxe3,Rf3,Bc4,Kf7,b4,Bxe3+', 'Kg2,Rf6,Rxe3', 'https://lichess.org/training/jAGa7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jAGC0', 'Blitz', 'sparrow1', 2543, 'FM odxn', 2470, 'd4,Nf6,Nf3,e6,Bf4,b6,h3,Bb7,e3,Be7,Be2,O-O,O-O,d6,a4,a5,Nbd2,Nbd7,c3,Re8,Qb3,Bf8,Rfc1,e5,Bh2,g6,Qd1,Bg7,Qf1,Qe7,Bb5,c6,Be2,e4,Ne1,d5,Nc2,Rec8,b4,axb4,cxb4,c5,bxc5,bxc5,Rcb1,Bc6,a5,Ne8,a6,Nd6,Qd1,Nf5,Nb3,cxd4,Nbxd4,Ne5,Ra5,Nc4,Nxf5,gxf5,Bxc4,dxc4,Nb4,Bc3,Nxc6,Rxc6,Rxf5,Rcxa6,Qc2,Ra1,Rb5,Qd7,Rb6,R8a2', 'Rb8+,Kg7,Qxc3+', 'https://lichess.org/training/jAGC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JAgy8', 'Blitz', 'LorisTAKA17', 2004, 'Zhudin', 1580, 'Nf3,c6,d3,g6,Nbd2,Bg7,c4,e6,e3,Ne7,g3,O-O,Bg2,d6,O-O,Nd7,Qc2,a6,Rb1,b6,b4,c5,Bb2,cxb4,Bxg7,Kxg7,Rxb4,a5,Rbb1,Nc5,Nd4,e5,Bxa8,e4,Nxe4,Bh3,Nxc5,Qxa8,Ne4,f5,Rfe1,fxe4,dxe4,Nc6,Qc3,Kg8,Rxb6,Ne5,Rxd6,Qxe4,f3,Nxf3+,Nxf3,Qxf3,Rd2', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/JAgy8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jahPM', 'Rapid', 'Brlab1', 1761, 'Yaser___bidiwi', 1674, 'd4,d5,c4,e6,Nf3,dxc4,Nc3,Bb4,Bd2,Nf6,e4,Bxc3,Bxc3,Nxe4,Bxc4,Nxc3,bxc3,Nc6,Bb5,Bd7,Ne5,Nxe5,Bxd7+,Nxd7,O-O,Nf6,Re1,O-O,Rb1,b6,h3,c5,Qa4,cxd4,cxd4,Nd5,Rb3,Qe8,Qc4,Rc8,Qd3,b5,Qg3,Rc2,a3,a6,Rf3,f5,Qg5,Qg6,Qh4,Qf6,Qg3,Qxd4,Qd6,Qd2,Qxe6+,Kh8,Rxf5,Rg8', 'Qxg8+,Kxg8,Re8#', 'https://lichess.org/training/jahPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JajnI', 'Rapid', 'AnonimSinan', 1601, 'Kareem_seyam', 1635, 'd4,d5,h3,e6,a3,Nf6,Nf3,Bd6,Bg5,c5,c3,Nc6,e3,cxd4,cxd4,O-O,Bd3,h6,Bh4,g5,Bxg5,hxg5,Nxg5,Kg7,Qf3,Rg8,Bh7,Nxh7,Qxf7+,Kh6,Qxh7+,Kxg5,h4+,Kf6,Qh6+,Kf7,O-O,Rxg2+,Kxg2,Qg8+,Kh1,Qg4,Rg1', 'Qh3#', 'https://lichess.org/training/JajnI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JaJVn', 'Blitz', 'DimonZh', 2197, 'CM Gui_tarchess', 2220, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Ndb5,d6,Bf4,e5,Bg5,a6,Na3,h6,Bxf6,gxf6,Nd5,f5,exf5,Bxf5,Nc4,Bg7,Ncb6,O-O,Nxa8,Qxa8,Be2,Nd4,Ne3,Bg6,c3,Ne6,O-O,Nf4,Nd5,Nxe2+,Qxe2,Kh7,Rad1,b5,f4,f5,fxe5,dxe5,Ne7', 'Qa7+,Qf2,Qxe7', 'https://lichess.org/training/JaJVn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jAlOE', 'Rapid', 'JeremyDoro', 1665, 'Michajow', 1667, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,Nf6,e5,dxe5,Qxe5,e6,Bg5,Bd6,Qe3,O-O,Rd1', 'Bxh2+,Nxh2,Qxd1+', 'https://lichess.org/training/jAlOE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JANlu', 'Blitz', 'CM Kingscrusher-YouTube', 2262, 'FM ajeale2', 2375, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,c5,g3,Nc6,Bg2,Be7,O-O,O-O,Re1,b5,c3,a5,Qe2,Ba6,e5,Nd7,a3,Rc8,Nf1,b4,axb4,cxb4,Bf4,Nc5,c4,Nb3,Rad1,a4,cxd5,exd5,h4,Ncd4,Nxd4,Nxd4,Qh5,Rc2,Ne3,Rxb2,Nxd5,a3,Bg5,Bxg5,hxg5,Kh8,Be4,g6,Qh6,Rg8,Nf6,Rg7,Kg2,Nf5,Bxf5,gxf5,Rh1', 'Bb7+,Kg1,Bxh1', 'https://lichess.org/training/JANlu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JaNNU', 'Classical', 'kokochambo', 2245, 'OKrymskiy', 2041, 'e4,c5,c3,d5,exd5,Qxd5,d4,e5,dxe5,Qxe5+,Be3,Nf6,Nf3,Qc7,Bc4,Be7,O-O,O-O,Nbd2,Nc6,Qc2,Ng4,Rfe1,Nxe3,Rxe3,Bg4,Rae1,Bf6,Ne4,Be7,Ng3,Rad8,h3,Bc8,Nf5,Bf6,Bb5,Be6,Bd3,c4,Be4,Bd5,Ng3,Bxe4,Nxe4,Be7,Neg5,g6,Qe2,Bc5,Re4,b5,Rh4,h5,Ne4,Be7,Nfg5,Kg7,Rxh5,gxh5', 'Qxh5,Rh8,Qxf7+', 'https://lichess.org/training/JaNNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jaox4', 'Classical', 'yazidoo', 1652, 'Amyron', 1652, 'e4,e6,Nf3,Nc6,d4,d5,exd5,exd5,Nc3,Bb4,Bd2,Nge7,Bb5,Bd7,O-O,O-O,Re1,Re8,a3,Bxc3,Bxc3,Nxd4,Bxd7,Nxf3+,Qxf3,Qxd7,Rad1,Rad8,Qg3,g6', 'Qe5,f6,Qxf6', 'https://lichess.org/training/Jaox4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jap4l', 'Blitz', 'Mikitin-YouTube', 2201, 'IM LittlePumpkin', 2331, 'd4,d5,Nf3,Nf6,c4,e6,cxd5,exd5,Nc3,c6,Bg5,Be7,Qc2,h6,Bh4,O-O,e3,Nbd7,Bd3,Ne8,Bxe7,Qxe7,O-O,Nd6,Rac1,Nf6,Ne5,g6,b4,Bf5,b5,c5,dxc5,Qxe5,cxd6,Ng4,g3,Nxe3,Qe2,Bxd3,Qxd3,Nc4,Rfe1,Qh5,Qxd5,Qxd5,Nxd5,Nxd6,Rc7,Nxb5,Rxb7,Nd4,Kg2,Rad8,Nf6+,Kg7,Ng4,h5,Ne3,a5,Rc1,Rd6,Rcc7,Rf6,Nd5,Rf5,Ne3,Rf6,Rd7,Ne6,Nd5,Rf5,Ne3,Rf6,Ra7,Nc5,Rdc7,Nd3,f4,Re8,Nd5,Rf5,Nc3,h4,Kf3,h3,Ne2,Ne1+,Kf2,Nd3+,Kf3,Nb4,Nd4,Rf6,Kg4,Nd5,Rd7,Ne3+,Kf3,Nc4,Re7,Rd8', 'Ne6+,Rxe6,Rxe6', 'https://lichess.org/training/jap4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JAPSy', 'Blitz', 'sixtyfourpieces', 1611, 'gargleblaster', 1613, 'd4,b6,e3,Bb7,Nf3,e6,Be2,Nf6,Nbd2,Be7,O-O,O-O,c4,c5,Qc2,cxd4,exd4,Nc6,a3,a5,Rb1,Qc7,b4,axb4,axb4,Nxb4,Qc3,Na2,Qb3,Nxc1,Rfxc1,Ne4,Nxe4,Bxe4,Qxb6,Qf4,Ra1,Ba3,Rc3,Bb4', 'Rxa8,Rxa8,Qxb4,Ra1+,Bf1', 'https://lichess.org/training/JAPSy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JaqjB', 'Bullet', 'ysfkula', 1915, 'aub1986', 1779, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,f3,Be7,Qd2,Qc7,O-O-O,Bd7,Kb1,Nc6,g4,b5,h4,b4,Na4,a5,b3,Rc8,h5,Ne5,Nb2,O-O,g5,Ne8,g6,Qc3,gxh7+,Kh8,Qc1,Nc7,Rg1,Bf6,Bg5,Ne8,Bxf6,Nxf6,Qg5,Ne8,h6,g6,Qe7,Nxf3,Qxf8+,Kxh7,Nxf3', 'Qxc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/JaqjB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JAQK9', 'Rapid', 'Chirizzi', 1760, 'tishasv', 1732, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Bc4,Nf6,Nc3,O-O,O-O,a6,Re1,b5,Bb3,c5,Bd5,Nxd5,Nxd5,cxd4,Qf3,Bb7,b3,Nd7,c4,Ne5,Qg3,d3,Bh6,Bf6,Rad1,bxc4,bxc4,Bxd5,exd5,Qa5,f4,Nxc4,Rxd3,Qxa2,h4,Rab8,h5,Rb1,Rdd1,Rxd1,Rxd1,Qe2,Rc1,Nb2,Bxg7,Bxg7', 'h6,Qe3+,Qxe3', 'https://lichess.org/training/JAQK9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JArnQ', 'Rapid', 'ARK1992', 1773, 'AkshaySawant', 1839, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,Bg5,Nbd7,e3,Be7,cxd5,cxd5,Bd3,h6,Bxf6,Nxf6,O-O,O-O,Qc2,a6,a3,b5,b4,Bb7,Ne5,Rc8,Rac1,Bd6,Qe2,Bxe5,dxe5,Nd7,f4,Nb6,Nd1,Nc4,Nf2,Nxa3,Rxc8,Qxc8,Ng4,Nc4,Nf6+,gxf6,exf6,Rd8,e4,Kf8,Qg4,Ke8,Qg8+,Kd7,Qxf7+,Kc6,exd5+,Rxd5', 'Be4,Kb6,Bxd5', 'https://lichess.org/training/JArnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jaSOx', 'Classical', 'Evgeny713', 1752, 'Akenetys', 1909, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nf3,f6,Bf4,Bb4+,Nc3,Qa5,Bb5,Qxb5,a3,Bxc3+,bxc3,Bd7,Rb1,Qa5,Qb3,Rb8,O-O,fxe5,Nxe5,Nf6', 'Nxc6,Bxc6,Bxb8', 'https://lichess.org/training/jaSOx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jasva', 'Rapid', 'HorseArt', 2155, 'Afredo', 2202, 'c4,e5,Nc3,Nc6,e4,Nf6,d3,Bc5,f4,d6,f5,Bd7,g4,Nh5,gxh5,Qh4+,Kd2,Qf2+,Qe2,Be3+,Kc2', 'Nd4+,Kd1,Nxe2', 'https://lichess.org/training/jasva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jATyc', 'Rapid', 'matt123', 1711, 'SLMani', 1771, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,d5,Bb3,Be7,Re1,O-O,d3,Nf6,Nxe5,Nc6,Nxc6,bxc6,Nc3,Re8,Bg5,h6,Bh4,Be6,h3,Qd6,Qf3,a5,a4,d4,Ne4,Nxe4,Bxe7,Rxe7,Bxe6,Rxe6,Rxe4,Rae8,Rae1,Kf8,Qg4,g6,Qf4', 'Qxf4,Rxf4,Rxe1+', 'https://lichess.org/training/jATyc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jAu7D', 'Blitz', 'aky7prim', 1690, 'Jorge64Costa', 1684, 'd4,d5,Nf3,Nf6,Bf4,Nc6,Nc3,e6,e3,Bd6,Bg5,h6,Bh4,O-O,Bb5,Bd7,Bxc6,Bxc6,Ne5,Be8,O-O,Be7,a4,a6,f4,Nd7,Bg3,Nxe5,fxe5,c6,Rf3,f5,Bf4,Bg5,Rg3,Bxf4,exf4,Bf7,Ne2,Qe8,c3,Bh5,Qe1,Kh7,Qf2,Rg8,Re3,g5,Ng3,gxf4,Qxf4,Rg4,Qf2,Qf7,Rf1,Rag8,h3,R4g5,Kh1,Qg7,Nxh5,Rxh5,Rg1,Rg5,Re2,Rg3,Qf4,Qg5,Qd2', 'Rxh3+,gxh3,Qxg1#', 'https://lichess.org/training/jAu7D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JaVdU', 'Blitz', 'parvadomus', 2092, 'sawron', 2096, 'f4,d5,Nf3,c5,e3,a6,d3,Nc6,Be2,Nh6,O-O,f6,Qe1,Nf7,e4,e6,c3,Be7,a4,O-O,Na3,Qc7,Nc2,Rb8,Nh4,b5,axb5,axb5,f5,dxe4,dxe4,exf5,Nxf5,Bxf5,exf5,Nfe5,Qh4,c4,Be3,b4,Nd4,Nxd4,Bxd4,Bc5,Kh1,bxc3,Bxe5,Qxe5,Bxc4+,Kh8,bxc3,Qxc3,Rac1,Qe5,Rf3,Rb4', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/JaVdU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('javfh', 'Rapid', 'sanpedro100', 1995, 'Behi_go', 2031, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,Bg5,h6,Bh4,g5,Bg3,h5,Nxg5,h4,Nxf7,hxg3,Nxd8,Bxf2+,Kf1,Ng4,Qf3,Ne3+,Ke2,Nd4+,Kd2,Nxc4+,dxc4,Nxf3+,gxf3,Kxd8,hxg3,Rxh1,Rxh1,Bxg3,Nd5,c6,Rh8+,Kd7,Rh7+,Kd8,Rh8+,Kd7,Rh7+,Ke8', 'Nc7+,Kd8,Nxa8', 'https://lichess.org/training/javfh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jaW91', 'Rapid', 'JanitorCaptain', 1774, 'toppocarp', 1771, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bc4,e6,O-O,Nge7,d3,O-O,e5,d6,Be3,dxe5,fxe5,Nxe5,Bxc5,Nxc4,dxc4,b6', 'Qxd8,Rxd8,Bxe7', 'https://lichess.org/training/jaW91');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JAyff', 'Rapid', 'Freddytor', 1718, 'computerlegohus', 1740, 'f4,d5,Nf3,Nc6,e3,f6,Bb5,Bd7,Bxc6,Bxc6,O-O,e6,d4,Bd6,Nc3,Ne7,a3,Nf5,b4,a6,a4,O-O,g4,Nh6,g5,Ng4,gxf6,Qxf6,Ng5,h6,Qxg4,hxg5,Qxg5,Qxg5+,fxg5,Bxh2+,Kg2,Rxf1,Kxf1,Rf8+,Kg2,Bd6,Ba3,Rf5,b5,Bxa3,Rxa3,axb5,axb5,Bd7,e4,Rxg5+,Kf3,c6,bxc6,Bxc6,e5,b5,Ra6,Bd7,Rd6,Rf5+,Ke3,Rf7,Na2,g5,Nc1,g4,Ne2,Kh7,Ng3,Kg6,Ra6,Kg5,Ra8,Kh4,Ne2,Rf3+,Kd2,Kh3', 'Ng1+,Kg3,Nxf3', 'https://lichess.org/training/JAyff');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JaYUm', 'Rapid', 'chaparrito', 1611, 'tristan765', 1627, 'c4,c5,d3,Nc6,Nc3,g6,e4,Bg7,Bd2,d6,g3,Nf6,Bg2,a5,a3,O-O,Nge2,Bg4,O-O,Bxe2,Qxe2,Nd4,Qd1,a4,Rb1,Nb3,Nxa4', 'Nxd2,Qxd2,Rxa4', 'https://lichess.org/training/JaYUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jazmK', 'Rapid', 'ilgabri', 1735, 'koznazna', 1773, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Be6,Qe2,a6,Ng5,Qe7,Bxe6,fxe6,O-O,O-O-O,fxe5,Qxg5,exd6,Rxd6,d3,Qd8,Qg4,g6,e5,Rd4,Qxe6+,Kb8,Be3,Rh4,c4,Bg7,d4,Nxd4,Rd1,Ne2+,Kf2,Qc8', 'Ba7+,Kxa7,Qxc8', 'https://lichess.org/training/jazmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jb08J', 'Rapid', 'Pordoi', 1851, 'vigvam', 1939, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,O-O,Nge7,c3,dxc3,Nxc3,O-O,e5,d6,Ng5,Nxe5,Qh5,h6,Nxf7,Nxf7,Bxh6,b5,Qg5,Nf5,Bxf7+,Kxf7,Qh5+,g6,Qf3,Rh8,Bd2,Rb8,Ne4,Bd4,Rfe1,Qh4,Ng5+,Kg7,Re7+,Nxe7', 'Qf7+,Kh6,Nf3+,g5,Nxh4', 'https://lichess.org/training/Jb08J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jb0SI', 'Rapid', 'JashGandhi', 1753, 'anthony234', 1775, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Bd2,Qxb2,Bc3,Bb4,Bxb4,Qxa1,Bc3,Qxa2,e6,f6,exd7+,Bxd7,e3,O-O-O,Bd3,Bg4,O-O,Qd5,Nbd2,Ne5,Be2,Ne7,h3,Bh5,Nxe5,Bxe2,Qxe2,fxe5,Nf3,Nc6,Ba1,Rhg8,c4,Qd3,Qxd3,Rxd3,Nxe5,Nxe5,Bxe5,g6,Ra1,a6,c5,Rgd8,Bd4,c6,Kh2,Rd2,Kg3,Rf8,f3,h5,Rf1,h4+,Kh2,Kd7,Kh1,g5,Rg1,a5,Bg7,Rf7,Bc3,Re2,e4,Ra2,Rd1+,Kc8,Rd6,Rd7,Rg6,Rd1+,Kh2,Rd3,Be5,Rxf3,Rxg5,Rg3,Bxg3,hxg3+,Kxg3,Ra3+,Kf2,Ra2+,Ke3,Rc2,Kd3,Rb2,Kc3,Re2,Kd3,Ra2,h4,a4,h5,Ra1,h6,Rh1,Rg6,a3,h7,a2,Rg8+,Kd7,h8=Q', 'Rxh8,Rxh8,a1=Q', 'https://lichess.org/training/Jb0SI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jb0xj', 'Rapid', 'bosinho', 2063, 'Bosy88', 1914, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,O-O,Nf6,d3,O-O,h3,Bb7,Bg5,h6,Bh4,d6,c3,Bc8,Re1,Bd7,d4,Bb6,dxe5,Nxe5,Nxe5,dxe5,Qf3,Qc8,Bxf6,gxf6,Qg3+,Kh7,Qh4,Rg8,Kh2,Rg5,Bxf7,Qf8,Bd5,c6,Bb3,Qg7,g4,f5,exf5,Bxf5,Re2,Rd8,Bc2,Bxc2,Rxc2,Rd1,Rd2,Rxd2,Nxd2,Qf6,Rf1', 'Qf4+,Qg3,Qxd2', 'https://lichess.org/training/Jb0xj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jb1GK', 'Bullet', 'IM vizumatv4hoda', 2694, 'IM Khusenkhojaev', 2380, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nf3,Be7,Nc3,O-O,Be2,Bg4,O-O,Nc6,Be3,Re8,b3,Bf8,h3,Bh5,Re1,Qd7,Qd2,Rad8,Rad1,Bg6,d5,Nb8,b4,Qc8,c5,dxc5,bxc5,N6d7,Bc4,Nxc5,Bd4,Rxe1+,Rxe1,Nbd7,Ne5,Re8,Nxg6,hxg6,d6,Rxe1+,Qxe1,Bxd6,Nd5,Nb6,Nxb6,axb6,Qc3,Qe8,Bxg7,Ne4,Qb2,Qc6,Bh6,Bf8,Bxf8,Kxf8,Qh8+,Ke7,Qd4,Nd6,Qe5+,Kd8,Bd5,Qc1+,Kh2,Qc5,Qf6+,Kd7,Bf3,Qf5', 'Bg4,Qxg4,hxg4', 'https://lichess.org/training/Jb1GK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jb1tD', 'Blitz', 'BWTOBlIVE', 2007, 'sneo111', 1976, 'e4,e5,f4,d5,exd5,c6,dxc6,Nxc6,Nf3,exf4,Bb5,Bd6,d4,Nf6,O-O,O-O,c4,Bg4,d5,Ne5,Nbd2,Qb6+,Kh1,a6,Ba4,Bc5,Qc2,Nh5,Nxe5', 'Ng3+,hxg3,Qh6#', 'https://lichess.org/training/jb1tD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JB3h5', 'Rapid', 'Arcowhip', 1670, 'obvNov', 1704, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,b4,Nxb4,c3,Nc6,d4,exd4,cxd4,Bb6,e5,Nh5,Bxf7+,Kxf7,Ng5+,Ke8,Qxh5+,g6,Qf3,Rf8,Qb3,Nxd4,Qc4,d5,exd6,Qxd6,Re1+,Kd8,Ba3,c5,Nc3,Bc7,Bxc5', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/JB3h5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jb3M5', 'Blitz', 'hadidah', 1506, 'mstylian', 1506, 'e4,c6,f3,d5,exd5,cxd5,d4,Nf6,Nc3,Nc6,Bb5,Bd7,Be3,e6,Nge2,Bd6,O-O,O-O,a3,a6,Bd3,h6,Ng3,Bxg3,hxg3,b5,Kf2,e5,Rh1,exd4,Bxh6,gxh6,Qd2,Ng4+,fxg4,Qf6+,Kg1,dxc3,bxc3,Kg7,Rf1,Qd6,g5,Rh8,Rf6,Qc5+,Kf1,Qe7,Qf4,hxg5', 'Qxg5+,Kf8,Rxh8#', 'https://lichess.org/training/jb3M5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jb4bj', 'Rapid', 'Vasil0', 2026, 'Hardcase007', 2006, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,c4,c5,Nc3,Nc6,cxd5,Nxd5,Bb5,Nxc3,bxc3,cxd4,cxd4', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/Jb4bj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jB4Rz', 'Blitz', 'JB1112', 1520, 'MickaelStipe', 1503, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Ne4,Nxe4,Nc6,d4,Qe7,Bxf4,Qb4+,c3,Qxb2,Bd2,f5,Ng3,d6,exd6,Bxd6,Qe2+,Ne7,Qd1,O-O,Nf3,f4,Bc4+,Kh8,Ne4,Bg4,O-O,Bxf3,Qxf3,Rad8,Rad1,Ng6,Nxd6,Rxd6,Bd3,Qxa2,Qxb7,f3,Rxf3,Rdf6,Rxf6,Rxf6,Bxg6,hxg6,Qxc7,Qb3,Re1,Qc2,Qd8+,Kh7,Qd5,Qxd2,Rb1', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/jB4Rz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JB550', 'Rapid', 'srujan-1', 1773, 'enguita13', 1710, 'b3,a5,Bb2,a4,e3,d5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,e6,O-O,Ngf6,Re1,Be7,Nc3,a3,Bc1,c5,d4,cxd4,exd4,O-O,Qd3,Ng4,Qb5,Qc7,Na4,Bd6,b4,Nxh2,Nxh2,Bxh2+,Kf1,Rxa4,Qxa4,Qc4+,Re2,Nf6,g3,Ne4,Qb3,Qxd4,Be3,Qxa1+,Kg2,Qg1+,Kf3,Qh1+,Kg4,h5+,Kf4,f6,Bc5,Nxc5,bxc5,e5+,Kf5,g6+,Kxg6,Qc1,Qxd5+,Kh8,Rd2,Rg8+', 'Qxg8+,Kxg8,Rd8#', 'https://lichess.org/training/JB550');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jb5gC', 'Blitz', 'gatra_08', 1946, 'kamila_lavely', 2122, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nde2,Be7,Be3,Nc6,Qd2,Be6,O-O-O,Qc7,Kb1,b5,f4,exf4,Nxf4,Ne5,Ncd5,Bxd5,Nxd5,Nxd5,Qxd5,Rc8,c3,O-O,Be2,b4,Rc1,Nc4,Bxc4,Qxc4,Bd4,Qd3+,Ka1,bxc3,Rxc3,Qe2,a3,Rb8,Rcc1,Bg5,Rb1,Be7,Qf5,Rb5,Qf3,Qc4,Bc3,Rfb8,Qg3,f6,Rhf1,Kf7,Qf3,Qe6,g4,h6,h4,Kg8,Qg3,d5,g5,fxg5,hxg5,Bxg5,exd5,Qxd5,Qf2,Rb3,Qa7,R8b7,Qxa6,Qc5,Qa8+,Kh7,Qe8,Rxc3,Qe4+,Kg8,Qxb7', 'Rxa3+,bxa3,Qxa3#', 'https://lichess.org/training/jb5gC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JB8pU', 'Blitz', 'paulegion', 1508, 'kissygirl', 1658, 'd4,Nf6,Bf4,d6,e3,g6,c3,Bg7,Nf3,O-O,Bd3,Nc6,Nbd2,Nd7,Ng5,e5,dxe5,dxe5,Nxh7,Kxh7,Bg3,Nf6,h4,Qxd3,h5,gxh5,Rxh5+,Nxh5,Qxh5+,Kg8,O-O-O,Qg6,Qh2,Be6,Rh1,Rfd8,Nf3,Bxa2,Nxe5,Nxe5,Bxe5,Bb3', 'Qh8+,Bxh8,Rxh8#', 'https://lichess.org/training/JB8pU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jbBGd', 'Rapid', 'Aditya_N', 1760, 'priyankshukla26', 1790, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,Bxc3+,bxc3,bxc6,Bd3,O-O,c4,Re8,Qf3,d6,O-O,Ng4,h3,Ne5,Qe2,Qf6,Bb2,Qg5,Bxe5,Rxe5', 'f4,Qe7,fxe5', 'https://lichess.org/training/jbBGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBBGf', 'Rapid', 'gorgoroth_black', 1682, 'Pirs07', 1902, 'd4,c5,d5,e6,c4,exd5,cxd5,Nf6,Nc3,Bd6,e4,O-O,Nf3,Re8,Bd3,c4,Bc2,Ng4,h3,Nf6,O-O,a6,Re1,Be5,Nxe5,Rxe5,Bf4,Re8,e5,Nxd5,Nxd5,Nc6,a4,Qh4,Nc7,Qxf4,Nxe8,d5,exd6,Bd7,Nc7,Rd8,Re4,Qg5,Rxc4,Ne5,Re4,Bxh3,g3,Qf6,Rf4,Qh6,Qd5,Qh5,Rh4,Nf3+,Kh1,Qxd5,Bxh7+,Kf8,Nxd5,Nxh4,gxh4,Rxd6,Rd1,Rh6,Be4,Rxh4,Bg2', 'Bg4+,Kg1,Bxd1', 'https://lichess.org/training/jBBGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jbBpy', 'Blitz', 'tp0375', 1885, 'UberSaur', 1859, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,d5,Nbd7,O-O,Nc5,Qc2,a5,Ne1,Ne8,f3,f5,Be3,Nf6,Bf2,fxe4,Nxe4,Ncxe4,fxe4,Bd7,c5,dxc5,Bxc5,Ng4,Rxf8+,Bxf8,Bxg4,Bxg4,Bxf8,Qxf8,Qxc7,Rc8,Qxe5,Be2,Qe6+,Kh8,Nf3,Rc2,Ng5', 'Qc5+,Kh1,Rc1+,Rxc1,Qxc1#', 'https://lichess.org/training/jbBpy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JBBqT', 'Blitz', 'S73loser', 1663, 'Mehmet_Boyaci_9D', 1678, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,Bf5,d3,e6,Bg5,Bd6,Bxf6,Qxf6,O-O,O-O,a3,Nd7,Nb5,a6,Nxd6,cxd6,Bb3,d5,Qe2,b5,Rfe1,Nc5,Qe5,Qxe5,Nxe5,Nxb3,cxb3,f6,Nf3,Bxd3,Rxe6,Be4,Nd2,Rae8,Rxa6,Re5,h3,Rfe8,Ra7,Bc2,b4,Re1+,Rxe1,Rxe1+,Kh2,Re2,Nf3,Rxf2,Kg3,Re2,Nd4,Re3+,Kf2,Rd3,Nxb5,Rd2+,Kg3,Be4,Nd6,Rxg2+,Kh4,g5+,Kh5,Bg6+,Kh6,Rh2', 'Ra8+,Be8,Rxe8#', 'https://lichess.org/training/JBBqT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jbBRj', 'Blitz', 'Bayern_fan', 1862, 'SillasChess21', 1936, 'd4,d5,Nf3,c6,Bf4,Nf6,e3,Nh5,Bg5,h6,Bh4,g5,Bg3,Nxg3,hxg3,Bg7,Be2,Bg4,c3,O-O,Nbd2,Nd7,Qc2,a5,e4,dxe4,Nxe4,e6,O-O-O,b5,Rh2,Nb6,Nfxg5,Bxe2', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/jbBRj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jbbvj', 'Rapid', 'nbaXbo', 1850, 'venuscheung', 1895, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d5,e3,O-O,Be2,Nc6,O-O,a6,a3,Re8,cxd5,Nxd5,e4,Nxc3,bxc3,b6,Bf4,Bb7,d5,Na5,c4,Bxa1,Qxa1,Nb3,Qb2,Nc5,e5,e6,Bg5,Qd7,Rd1,Ne4,Bf6,exd5,cxd5,Bxd5,Bc4,Nxf6,exf6,c6,Qd2,Qd6,Qg5,Qf8,Bxd5,cxd5,Rxd5,Rad8,g4,Rxd5,Qxd5,Qxa3,Ng5,Qc1+,Kg2,Qc7,Qf3,h6,Qh3,Qc6+,Nf3,h5,gxh5,gxh5', 'Qg3+,Kh7,Qg7#', 'https://lichess.org/training/Jbbvj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jbCli', 'Rapid', 'jorge95', 1836, 'fefeu97', 1667, 'e4,e5,Nf3,d6,d4,f5,Nc3,Nf6,dxe5,Nxe4,Qe2,d5,Nxe4,fxe4,Nd4,g6,f4,Qe7,Bd2,Bd7,O-O-O,a6,Bc3,Bh6,g3,O-O,Qe3,Re8,Ne2,Nc6,Rxd5,Qe6,Qxe4,Ne7,Rd1,Bc6,Nd4,Bxe4,Nxe6,Nd5,Rxd5', 'Bxd5,Nxc7,Bxh1', 'https://lichess.org/training/jbCli');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBDrF', 'Rapid', 'IHTV', 1747, 'dee9blue', 1736, 'd4,Nf6,Bg5,e5,dxe5,Be7,exf6,Bxf6,Bxf6,Qxf6,c3,Nc6,Nf3,d6,Nbd2,Bf5,g3,O-O-O,Bg2,Rhe8,Nh4,Bd3,e3,g5,Bxc6,bxc6,Nhf3,Rxe3+,fxe3,Re8,Nf1,Bxf1,Rxf1,Rxe3+,Kd2,Qe6,Kc1,Re2,Nd4,Qe3+,Kb1,Qe4+,Nc2,Rxh2,Re1,Qg2,b3,c5,Kb2,Kb8,Rc1,a5,Rg1,Qb7,a4,c4,b4,axb4,Qd4', 'bxc3+,Ka1,Qb2#', 'https://lichess.org/training/jBDrF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBefS', 'Blitz', 'NM Oldblanket', 2322, 'rocoide', 2187, 'd4,d6,Nc3,Nf6,e4,e5,Nf3,Nbd7,Bc4,Be7,O-O,O-O,h3,a5,Be3,c6,dxe5,dxe5,a4,Qc7,Qe2,Nc5,Nd2,Be6,Rad1,b6,b3,Rad8,Bxe6,Nxe6,Nf3,Bc5,Ng5,Nd4,Bxd4,exd4,Nb1,Rfe8,Qd3,h6,Nf3,Nxe4,Rde1,Qf4,Nbd2,Nxd2,Nxd2,Rxe1,Rxe1,Bb4,Re2,Bxd2,Rxd2,c5,Re2,g6,g3,Qf6,h4,h5,Qe4,Rd6,Qa8+,Rd8,Qb7,Kg7,Re7,Rd6,Re8,Re6,Rxe6,Qxe6,Kg2,d3,cxd3,Qxb3,Qd7,Qc3,Kf3,c4,Ke4,Qxd3+,Qxd3,cxd3', 'Kxd3,Kf6,Kc4', 'https://lichess.org/training/jBefS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JbEQu', 'Rapid', 'RameshMABD', 1691, 'jonTHEbat', 1715, 'g4,c5,Bg2,e6,c3,d5,Qb3,Nf6,d3,Nxg4', 'Qa4+,Nd7,Qxg4', 'https://lichess.org/training/JbEQu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JBFDQ', 'Rapid', 'chenentano', 1693, 'Dimon-2xa', 1681, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,Bxc5,Nxd5,Nf6,Bg5,Qa5+,c3,Be7,Nxe7,Kxe7,Bxf6+,gxf6,Nf3,Nc6,Bd3,Bg4,O-O,Ne5,Re1,Rhd8,Qe2,Kf8,Be4,Qb6,Qe3,Qxb2,Bxb7,Qxb7,Qh6+,Kg8,Qxf6,Nxf3+,gxf3,Qxf3,Qg5+,Kf8,Qe7+,Kg8,Qg5+,Kh8,Re3,Rd1+,Rxd1,Qxd1+,Kg2,Rg8', 'Qf6+,Rg7,Re8#', 'https://lichess.org/training/JBFDQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jbfmD', 'Rapid', 'AFondOfChess', 1815, 'makc151983', 1833, 'd4,d5,c4,dxc4,Nc3,e5,Be3,exd4,Bxd4,Nc6,Nf3,Nxd4,Nxd4,Nf6,e3,Bb4', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/jbfmD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JbG2J', 'Rapid', 'runningfox', 1856, 'tawandamatema', 1814, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd3,Bg4,f3,Bh5,Ne2,e6,O-O,Bg6,Bxg6,hxg6,Bd2,Bd6,h3,Qh5,Ne4,Nxe4,fxe4,Qh4,e5,Be7,Nf4,g5,Ne2,g4,Be1,Qh7,Ng3,gxh3,Qf3,Nc6,Qxf7+,Kd7,d5,Nd8,dxe6+,Kc8,Qxe7,hxg2,Kxg2,Qh2+,Kf3,Nc6,Qd7+,Kb8,e7', 'Nxe5+,Kf4,Nxd7', 'https://lichess.org/training/JbG2J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JbG7w', 'Rapid', 'koalkos', 1786, 'Magikl', 1867, 'e4,e6,d4,d5,exd5,exd5,Nf3,c5,Bb5+,Nc6,O-O,Qb6,Bxc6+,Qxc6,Nc3,b6,dxc5,Bxc5,Nxd5,Ne7,Re1,Be6,Nxe7,Bxe7,Nd4,Qd7,Nxe6,Qxd1,Rxd1,fxe6,Re1,Kf7,Bf4,Rac8,c3,Bf6,Rad1,Rhd8,Rd2,g5,Be3,Rxd2,Bxd2,Rc5,Be3,Re5,Rd1,Rd5,Rxd5,exd5,Kf1,h6,Ke2,Ke6,Kd3,Be5,h3,Kd6,b3,Kc6,Bd4,Kd6,c4,dxc4+,Kxc4,Bxd4,Kxd4,a6,g3,Ke6,g4,a5,Kc4,Kd6,Kb5,Kc7,f3,Kb7,a4,Kc7,Ka6,Kc6,Ka7,Kc5,Kb7', 'b5,axb5,Kxb5', 'https://lichess.org/training/JbG7w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBGKu', 'Bullet', 'Takitizeeee', 2026, 'jdcomas', 1961, 'd4,Nf6,Nf3,c5,c4,cxd4,Nxd4,e5,Nf3,Nc6,Nc3,Bc5,e3,O-O,Be2,a6,O-O,d6,Nd5,Be6,b3,Ne7,Nxf6+,gxf6,Bb2,d5,cxd5,Nxd5,Rc1,Rc8,Nd2,Nxe3,fxe3,Bxe3+,Kh1,Qxd2,Qxd2,Bxd2,Rcd1,Bg5,Ba3,Rfd8,g3,Bh3,Rfe1,Kg7,Bf3,b6,Bb7,Rxd1,Rxd1,Rc2,Be7,Rxa2,Kg1,Be3+,Kh1,Bd4,b4,a5,bxa5,bxa5,Bf3,a4,Bd5,Ra1,Rxa1,Bxa1,Ba3,Be6,Bc6,Bb3,Kg1,Bd4+,Kf1,Kg6,Ke2,f5,Kf3,f6,h4,e4+,Kf4,Bc3,h5+,Kxh5', 'Be8+,Bf7,Bxf7+,Kh6,Bf8#', 'https://lichess.org/training/jBGKu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBH18', 'Blitz', 'jesusflores', 2066, 'brenoxadrez', 2090, 'e4,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,Nc3,c6,Bc4,e6,Ne4,Na6,Bxa6,bxa6,a3,Rb8,b4,a5,d4,axb4,axb4,Qc7,Qg4,Nxb4,Nd6+,Bxd6,exd6,Qb7,Qxg7,Rf8,Bh6,Nd3+,Kd2,Qb2+,Ke3,Qxf2+,Kxd3,Rb3+,Ke4,f5+,Ke5', 'Re3+,Bxe3,Qxe3#', 'https://lichess.org/training/jBH18');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBHa2', 'Classical', 'pavelano', 1894, 'AMIRKAKA121', 1734, 'd4,e6,c4,d6,Nf3,c5,e3,cxd4,exd4,Nc6,d5,exd5,cxd5,Nb4,Qa4+,Nc6,dxc6,bxc6,Qxc6+,Bd7,Qe4+,Ne7,Nc3,g6,Nd5,Bg7,Nxe7,Qxe7,Qxe7+,Kxe7,Be2,Rhe8,O-O,Kf8,Bc4,Bc6,Ng5,d5,Bd3,Kg8,Rb1,h6,Nf3,Rab8,b3,a5,Bf4,Rb7,h3,a4,Bd6,axb3,axb3,d4,Nd2,Bb5,Nc4,g5,Rfe1,Rd8,Bg3,Rf8,Be4,Rd7,Nd6,Ba6,Bf5,Rdd8,Ra1,Ra8,Nc4,d3,Rad1,Rfd8,Bxd3,Bc3,Re2,Bxc4,bxc4,Ra3,Bc7,Rc8,Bd6,Rb3,c5,Bb4,Bf5,Rd8,Rc1,Ba3,Rcc2,Rb5,Bc7,Rd1+,Kh2,Rxc5,Re8+,Kg7,Be5+,f6,Bc3,Rxf5,g4,Bd6+,Kg2,Rc5,Rd8,Rd3', 'Bxf6+,Kxf6,Rxc5,Bxc5,Rxd3', 'https://lichess.org/training/jBHa2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBHcr', 'Rapid', 'StamKO', 1903, 'cvita', 1763, 'd4,d5,c4,e5,dxe5,d4,Bf4,Nc6,Nf3,Bg4,h3,Bxf3,exf3,Bb4+,Nd2,d3,a3,Qd4,axb4,Qxf4,Bxd3,Nxb4,Qa4+,Nc6,Be4,Ne7,Bxc6+,Nxc6,Ne4,Qxe5,O-O,O-O,b4,a6,Qb3,Nd4,Qb2', 'Nxf3+,gxf3,Qxb2', 'https://lichess.org/training/jBHcr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jbkUv', 'Blitz', 'vijayaravind0895', 1593, 'Rudra66', 1581, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,e3,Be7,Nf3,O-O,Bd3,dxc4,Bxc4,Nbd7,Qc2,Nb6,Bd3,h6,Bh4,Nbd5,g4,Nxg4,Bxe7,Qxe7,Rg1,Ngf6,Ne4,Bd7,Ne5,Rac8,Ke2,Nxe4,Bxe4,c5,Bxd5,exd5,Rxg7+,Kxg7,Rg1+,Kf6', 'Rg6+,fxg6,Qxg6#', 'https://lichess.org/training/jbkUv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jbmgs', 'Rapid', 'Thescorbion', 2058, 'abdallah133', 2124, 'e4,e5,Nf3,d6,Bc4,Nf6,d3,Be7,O-O,Nc6,c3,O-O,Be3,d5,exd5,Nxd5,Re1,Nxe3,Rxe3,Bc5,Re2,Bg4,Re4,Bh5,b4,Bd6,Nbd2,Kh8,Rh4,Bxf3,Nxf3,Be7,Rh3,f5,Nxe5,Nxe5', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/Jbmgs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBMW4', 'Rapid', 'patzerhasser', 1612, 'Chateaurenard', 1603, 'd4,d5,c4,c6,Nc3,Bf5,Bf4,Nf6,e3,e6,Bxb8,Qxb8,a3,a6,c5,b6,b4,Be7,Bd3,Bxd3,Qxd3,O-O,Nf3,bxc5,dxc5,Nd7,O-O,h6,Nd4,Qc7,Nce2,e5,Nf5,Bf6,Rad1,e4,Qb3,a5,Ned4,axb4,axb4,Rab8,Rb1,Nxc5,Qa3,Nd7,Rfc1,Ne5,b5,Ra8,Qc5,Nd3,Qxf8+,Kxf8,Rxc6,Qa5,b6,Qa1', 'Rc8+,Rxc8,Rxa1', 'https://lichess.org/training/jBMW4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JBNTg', 'Rapid', 'Dlargek', 1647, 'Salih444', 1652, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d6,Re1,Bg4,h3,Bh5,c3,O-O,Nbd2,a6,b4,Ba7,Nf1,h6,Ng3,Ne7,Nxh5,Nxh5,Nh2,Nf6,d4,exd4,cxd4,Nh7,Re3,Ng6,Rg3,Qf6,Bb2,c5,bxc5,dxc5,Ng4,Qd6,d5,Rfe8,Qf3,b5,Bb3,c4,Bc2,Rac8,Re1,Qb4,Bc3,Qc5,Kh2,Ng5,Nxh6+,gxh6,Rxg5,hxg5,Qf6,Ne5,Qxg5+,Kf8,Bxe5,Rxe5,Qxe5', 'Bb8,Qxb8,Rxb8', 'https://lichess.org/training/JBNTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JbNTJ', 'Blitz', 'Ian_fidelino', 2132, 'beginner014', 2159, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Nc6,O-O,Bg4,c3,Be7,Re1,f5,Bf4,O-O,h3,Bh5,Nbd2,g5,Bh2,g4,Ne5,Nxf2,Nxc6,bxc6,Qe2,Nxd3,Qxd3,Bd6,Bxd6,Qxd6,Re5,Qg6,Rae1,gxh3,Qxh3,Qg4,Qxg4+,Bxg4,Re7,Rf7,R7e6,Rb8,Nb3,f4,Rxc6,f3,gxf3,Bxf3,Rf1,Kh8,Kh2,Rg8,Rf2,Rf4,Rh6,Kg7,Rh3,Rgf8,Rg3+,Kh6,Kg1,Be4', 'Rh2+,Rh4,Rxh4#', 'https://lichess.org/training/JbNTJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBp2V', 'Blitz', 'IM Mv17', 2570, 'shinerzz', 2188, 'e4,c5,Nf3,Nc6,b4,cxb4,d4,d5,exd5,Qxd5,c4,bxc3,Nxc3,Qa5,Rb1,Qxc3+,Bd2,Qa3,d5,Nf6,dxc6,bxc6,Qc2,Bd7', 'Bb4,Qxb4+,Rxb4', 'https://lichess.org/training/jBp2V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JBPuR', 'Blitz', 'murphy499', 1763, 'oli5679', 1703, 'd4,d5,Bf4,e6,e3,Nf6,Nf3,Bd6,Bg3,O-O,c4,c6,c5,Bc7,Nc3,Nbd7,b4,Re8,Bd3,e5,dxe5,Nxe5,Nxe5,Bxe5,Qc2,d4,Ne4,dxe3,Bxe5,exf2+,Kxf2,Rxe5,Rhf1,Ng4+,Kg1,Rh5,h3,Qd4+,Kh1,Ne3,Qf2,Bxh3', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/JBPuR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBR6B', 'Rapid', 'ArsykLoshok', 1823, 'aliaskarinejad', 1721, 'e4,e6,e5,d6,Nf3,dxe5,Nxe5,c6,d3', 'Qa5+,Nd2,Qxe5+', 'https://lichess.org/training/jBR6B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBRsU', 'Rapid', 'nikkon2006', 2212, 'snanda', 2109, 'e4,c5,Nc3,e6,g3,b6,Bg2,Bb7,Nge2,d6,O-O,Nf6,d4,cxd4,Nxd4,a6,Be3,Be7,Qe2,Qc7,Rfd1,O-O,h3,Nbd7,g4,Ne5,g5,Nfd7,Bf1,Rac8,f4,Nc4,Bc1,Rfe8,b3,Na5,Bb2,Nc6,Nxc6,Qxc6,Bg2,b5,a3,Red8,Rd2,Bf8,Rad1,Nb6,f5,Qc7,fxe6,fxe6,Qg4,Re8,h4,Rcd8,e5,d5,Ne2,Nd7,Qg3,Qb6+,Kh1,Bc5,Nd4,Rf8,b4,Bxd4,Bxd4,Qc6,c3,Nb6,Bh3,Nc4,Ra2,Rf7,Qg4,Bc8,Rf1,Rxf1+,Bxf1,Rf8,Kg1,Qe8,Bd3,g6,Rh2,Qf7,h5,Qf4,Qxf4,Rxf4,hxg6,hxg6,Rg2,Kg7,Rg3,Nxa3,Kg2,Nc4,Kh2,Bd7,Kh3,Nd2', 'Be3,Rf8,Bxd2', 'https://lichess.org/training/jBRsU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jbSmE', 'Classical', 'kremax', 1742, 'carbonero68', 1652, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,d3,O-O,a3,d6,O-O,Bg4,Nbd2,a6,h3,Bh5,Re1,d5,exd5,Nxd5,Nf1,Bc5,Ng3,Bg6,Nxe5,Nxe5,Rxe5,Bxf2+,Kxf2,Qf6+,Qf3,Qxe5,Bxd5,c6,Bf4', 'Qxd5,Qxd5,cxd5', 'https://lichess.org/training/jbSmE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBSrW', 'Blitz', 'CM NowInChess', 2261, 'miro1982', 2031, 'e4,c6,d4,d5,exd5,cxd5,c4,dxc4,Bxc4,e6,Nf3,Nf6,Nc3,Be7,O-O,O-O,Qe2,a6,Bg5,Re8,Rad1,b5,Bb3,Bb7,Rfe1,Nbd7,a3,h6,Bh4,Nb6,Ne5,Nbd5,Nxd5,Bxd5,Bxd5,Nxd5,Nxf7,Kxf7,Qxe6+,Kf8,Bxe7+,Rxe7,Qf5+,Kg8,Rxe7,Nxe7,Qe6+,Kh8,Re1,Ng8,d5,Nf6,d6,Qd7,Qe5,Rd8,Rd1,Re8,Qf4,Re6,h4,Ne8', 'Qf8+,Kh7,Qf5+,Kg8,Qxe6+,Qxe6,d7,Nf6,d8=Q+', 'https://lichess.org/training/jBSrW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JbtHS', 'Classical', 'BlindedMonster', 1790, 'SEL2525', 1870, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bd3,Bg4,c3,e6,Bf4,Bd6,Bxd6,Qxd6,Nbd2,Nge7,Qc2,h6,h3,Bf5,O-O,a6,Nh4,Bxd3,Qxd3,b5,Nb3,Rc8,Nc5,Na5,f4,g5,fxg5,hxg5,Nf3,g4,hxg4,Ng6,Qe3,Nc4,Qf2,Nf4,Rae1,Nd3,Qe2,Nxe1,Rxe1,Ke7,b3,Rxc5,dxc5,Qxc5+,Nd4,Nd6,Qe5,Rg8,Kf1,Ne4,Nf5+,Kd7,Nd4,Qxc3,Rxe4,dxe4,Qxe4,Qc1+,Kf2,Qd2+,Kg3,Qc3+,Kh2,Rg6,Nf3,Rh6+,Kg3,Qc7+,Kf2,Rf6,Ke2,Rf4', 'Ne5+,Ke7,Qxf4', 'https://lichess.org/training/JbtHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JbtPe', 'Blitz', 'GM Elda64', 2878, 'jhonkaropv5', 2511, 'd4,Nf6,Nf3,d5,Bg5,e6,Nc3,Nbd7,e4,dxe4,Nxe4,Be7,Nxf6+,gxf6,Bh6,Bf8,Be3,h5,c3,a6,g3,b5,Bg2,Bb7,O-O,Nb6,a4,bxa4,Qe2,Qd7,c4,Qc6,Rfc1,Qd7,d5,e5,c5,Nxd5,c6,Bxc6,Rxc6,Qxc6,Nh4,Rd8,Nf5,Qb5,Qc2,Bb4,Be4,c5,Bh6,Rd7,Bg7,Rg8,Qd1,Nf4,Nd6+,Ke7,Nf5+,Kd8,Qf3,Ne6,Bxf6+,Kc7,Bxe5+,Kd8,Bc6,Qd3,Bf6+,Kc7,Be5+,Kb6,Qxd3,Rxd3,Bxa4,Rgd8,Kg2,Rd2,Rc1,R2d5,f4,f6,Bxf6,Rxf5,Bxd8+,Nxd8,Rd1,Ne6,Rd6+,Ka5,Rxe6,Kxa4,Re4,Kb3,Kh3,Rd5,g4,Rd2,g5,Rxb2,g6,c4,g7,c3,g8=Q+,Ka3,Re6,a5,Ra6,Rb3,Qc4', 'c2+,Kh4,Rc3', 'https://lichess.org/training/JbtPe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JBtUY', 'Rapid', 'cswhitmo01', 1770, 'RiceMuncher', 1615, 'b3,d5,Bb2,Nc6,e3,a6,Nf3,Bg4,d3,e5,Be2,Bxf3,Bxf3,Bb4+,c3,Bd6,Bxd5,Nf6,Bf3,g5,O-O,Qe7,a4,O-O-O,b4,e4,Bg4+,Kb8,d4,h5,Be2,Ng4,g3,f5,b5,h4,bxc6,hxg3,fxg3,Nxh2,Rxf5,Bxg3,Qb3,b6,a5,Qh7,axb6', 'Nf3+,Bxf3,Qh2+,Kf1,Qf2#', 'https://lichess.org/training/JBtUY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JBTZG', 'Rapid', 'piur', 1867, 'schrankwand5', 1826, 'e4,e6,d4,d5,e5,c5,Qg4,Qb6,a3,cxd4,Nf3,Nc6,b4,Nge7,Bd3,Ng6,Bxg6,hxg6,Nbd2,Bd7,Nb3,Qc7,Nbxd4,Nxe5,Nxe5,Qxe5+,Be3,Rxh2,Rxh2,Qxh2,Ke2,O-O-O,Rc1,Kb8,c4,dxc4,Qf3,f6', 'Bf4+,Qxf4,Qxf4+', 'https://lichess.org/training/JBTZG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JbU0J', 'Blitz', 'tylerroth02', 1732, 'jobodog', 1871, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,c4,Nf6,Nc3,Bd7,Be2,g6,O-O,Bg7,Be3,O-O,f3,Ne5,Kh1,a6,Qd2,Rc8,b3,Qa5,Rac1,Nc6,Nxc6,Bxc6,Nd5,Qxd2,Bxd2,Bxd5,cxd5,Nd7,Rc3,b5,Rc6,Rxc6,dxc6,Nc5,Be3,Rc8,Rc1,Rxc6,b4,Bb2,Rc2,Ba3,bxc5,dxc5,Bg5,f6,Bf4,e5,Be3,c4,Bd2,Kf7,Kg1,Ke6,Kf2,Bc5+,Be3,Bxe3+,Kxe3,Kd6,Kd2,Kc5,Kc1,Kb4,Kb2,c3+,Ka1,Ka3,Kb1,b4,Kc1,Rd6,Bc4,a5,Bg8,h6,Bf7,g5,Bd5,Ka4,Kd1,Kb5,Ke2,Kc5,Kd3,Rb6,h3,a4,g4,Kd6,Kc4', 'b3,axb3,axb3,Kxc3,bxc2', 'https://lichess.org/training/JbU0J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JbUcJ', 'Classical', 'DragonWithPolish', 1691, 'JuneliRrabary', 1703, 'e3,c5,Nc3,a6,d4,cxd4,exd4,e6,Bd3,g6,Be3,Bg7,Qf3,Ne7,Be4,Nbc6,Nh3,Rb8,Ng5,O-O,O-O-O,Qa5,a3,d5,Bd3,Bxd4,Bd2,Qd8,Qh3,h5,g4,e5,Qh4,Bxg4,Rdg1,e4,Rxg4,Nf5,Qh3,exd3,cxd3,Bf6,f4,Kg7,Rhg1,Nce7,Ne2,Rh8,R4g2,Qb6,b4,Rbc8+,Kb1,Qc7,Rc1,Qd6,Ng3,Rxc1+,Bxc1,Rc8,Nxh5+,gxh5', 'Ne4+,Kf8,Nxd6', 'https://lichess.org/training/JbUcJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JBv9f', 'Blitz', 'Iuds', 2241, 'GM severomorskij17', 2675, 'c4,e5,Nc3,Bb4,Nd5,Bc5,e3,c6,Nc3,Nf6,g3,d5,cxd5,cxd5,d4,exd4,exd4,Bb4,Bg2,O-O,Ne2,Nc6,O-O,Bg4,Qb3,Bxc3,Nxc3,Nxd4,Qxb7,Rb8,Qxa7,Nf3+,Kh1,d4,Ne2,d3,Nf4,d2,Bxd2,Nxd2,Rfe1,Bf3,Qe3,Bxg2+,Kxg2,Rxb2,Qc3,Qa8+,Kh3,Nf3,Qxb2,Ng5+,Kh4,Qc8,Qe2,h6,Rac1,Nf3+,Qxf3', 'g5#', 'https://lichess.org/training/JBv9f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jbvcj', 'Rapid', 'Sheeba07', 1820, 'Albaraa21', 1876, 'e4,e6,f4,c5,Bc4,Qb6,Nf3,Nf6,d3,Nc6,c3,Be7,a3,O-O,O-O,d5,Bb3,c4+,d4,cxb3,e5,Ne4,Nbd2,Nxc3,bxc3,b2,Rb1,bxc1=Q,Qxc1,Qc7,g4,b6,g5,Ba6,Rf2,Na5,h4,Nc4,Nxc4,Bxc4,h5,Bd3,Rbb2,Be4,Nh4,Bxa3,h6,g6,f5,exf5,Nxf5,gxf5,g6,Bxb2,gxh7+,Kxh7,Qxb2,Rg8+,Kf1,Kxh6,Qd2+,Kg7,Rh2,Rh8', 'Qg5+,Kf8,Rxh8#', 'https://lichess.org/training/jbvcj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jbxuD', 'Rapid', 'Gutinocapo', 1992, 'Peon_Vuelve_59', 1874, 'e4,Nf6,e5,Nd5,Nc3,Nxc3,bxc3,d6,f4,dxe5,fxe5,e6,d4,Qh4+,g3,Qe4+,Kf2,Qxh1,Nf3,Bd7,Qe2,Bc6', 'Bg2,Qxg2+,Kxg2', 'https://lichess.org/training/jbxuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jby51', 'Rapid', 'DiasSaidov', 1972, 'robfast', 1975, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng5,Bg6,Bc4,e6,Qe2,Nd7,h4,h6,h5,hxg5,hxg6,Rxh1,gxf7+,Kxf7', 'Qxe6#', 'https://lichess.org/training/jby51');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JBYPV', 'Classical', 'TheFlyingMike', 1636, 'thomas148', 1613, 'c4,g6,Nf3,f6,g3,c5,Bg2,d6,O-O,Bg7,d3,f5,Nc3,a6,Rb1,Bxc3,bxc3,Qa5,Qc2,e6,Bg5,Nd7,Ne1,Rb8,Be3,e5,d4,e4,f3,Ngf6,Bg5,b5,Bxf6,Nxf6,cxb5,axb5,fxe4,Bd7,e5,Ne4,Bxe4,fxe4,Qxe4,Bf5,Qc6+,Ke7,exd6+,Kf6,d7+,Kg5,Nf3+,Kh6,Rbc1,Qxa2,Ne5,Rbf8,g4,Qxe2,gxf5,Rhg8,Rce1,Qb2,Qxc5', 'gxf5+,Ng6,Rxg6+,Kh1,Qg2#', 'https://lichess.org/training/JBYPV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JBzUw', 'Blitz', 'Jonathan1289', 1520, 'AND_MOS', 1528, 'd4,f5,Bf4,Nf6,Nd2,e6,e3,Be7,Ngf3,c6,Bd3,O-O,e4,fxe4,Nxe4,Nxe4,Bxb8,Rxb8,Bxe4,d5,Bd3,Qb6,b3,Bd6,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Rf6', 'Qh7+,Kf8,Qh8+,Ke7,Qxg7+,Ke8,Qxf6', 'https://lichess.org/training/JBzUw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jBzXu', 'Rapid', 'samiiss', 1883, 'Ivanhoe123', 1926, 'e4,c6,f4,d5,e5,Bf5,Nf3,e6,d4,Qb6,Nc3,c5,Be3,Nc6,Na4,Qa5+,Nc3,Qb6,Be2,Qxb2,Bd2,Bxc2,Qc1,Qxc1+,Rxc1,Bg6,O-O,cxd4,Nb5,Rc8,Nfxd4,a6,Na7,Ra8,Naxc6,bxc6,Nxc6,Ne7,Nb4,a5,Bb5+,Kd8,Nc6+,Nxc6,Bxc6,Ra6,Bb7,Ra7,Bc6,Bd3,Rfd1,Bc4,Be3,Rc7,Bb6,Bc5+,Bxc5,Rxc6,Bd6,Kd7,Rb1,Ra8,Rb7+,Ke8,a3,d4,Re7+,Kd8,Rxf7,d3,Rxg7,Raa6,Rb1,Rab6,Rd1,Rb2,Ra7,Bd5,Rxa5,Rxg2+,Kf1,Rcc2,Bc5,Rxh2,Bd4,Rh1+,Bg1,Rg2', 'Rxd5+,exd5,Kxg2', 'https://lichess.org/training/jBzXu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jC04d', 'Blitz', 'WatchYoBishop', 1721, 'everythingistaken', 1713, 'e4,c5,Nf3,d6,c3,g6,Bb5+,Bd7,Qa4,a6,Bxd7+,Nxd7,d3,Bg7,Bf4,Nf6,Nbd2,O-O,O-O,Nh5,Be3,b5,Qc2,Ne5,Nxe5,Bxe5,g3,Qd7,f4,Bg7,d4,Qh3,Nf3,Qd7,e5,dxe5,dxe5,Bh8,Rfd1,Qe6,Ng5,Qg4,Bxc5,f6,exf6,exf6,Bxf8,fxg5,Bh6,gxf4,Bxf4,Nxf4,Qb3+,Kg7,Rd7+,Kh6,Qf7,Ne2+,Kh1', 'Qe4+,Qf3,Qxf3#', 'https://lichess.org/training/jC04d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jC1HF', 'Blitz', 'Abdulhamid1212', 1602, 'Abdugofforov_5b', 1588, 'e3,Nf6,Bc4,d5,Bb3,b6,e4,dxe4,Qe2,Bb7,Qc4,b5,Qxf7+,Kd7,Qe6+,Ke8,d4,Nbd7,d5,Bxd5,Qh3,b4', 'Bxd5,Nxd5,Qh5+,g6,Qxd5', 'https://lichess.org/training/jC1HF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jc2Ia', 'Blitz', 'ershovan', 1828, 'jolubolu', 1865, 'e4,g6,f4,Bg7,Bc4,d6,Nf3,Nf6,e5,dxe5,Nxe5,O-O,Bxf7+,Rxf7,Nxf7,Kxf7,O-O,Nc6,Nc3,Bg4,Qe1,Qd4+,Kh1,Nd5,Nxd5,Qxd5,Qh4,Bf5,d3,Nd4,Qf2,Qc6,c3,Ne6,d4,Qb6,Re1,c5,dxc5,Nxc5,Qe3,Qd6,Rb1,Bxb1,b4,Ne4,Bb2,Bd3,Rd1,Qc6,Rxd3,Nf6,Rd1,Ng4,Qe2,Nf6,Re1,Nd5,c4,Nxf4', 'Qxe7+,Kg8,Qxg7#', 'https://lichess.org/training/Jc2Ia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jc3Xi', 'Rapid', 'abelgallegos', 1750, 'chopss', 1795, 'e4,e5,f4,exf4,Bc4,Qh4+,Kf1,Bc5,Qe2,Nc6,Nf3,Qe7,d3,g5,Nc3,Nf6,Nxg5,Ne5,Bb3,d6,h3,Rg8,Bxf4,Bd7,Nd5,Nxd5,exd5,O-O-O,Bxe5,dxe5,Ne4,Bd6,Nxd6+,cxd6,Re1,Rg5,d4,Rdg8,Rg1,Bxh3,Qc4+,Kb8,dxe5,Rf5+,Ke2,Qxe5+,Kd2,Qf4+', 'Qxf4,Rxf4,gxh3,Rxg1,Rxg1', 'https://lichess.org/training/jc3Xi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JCAD6', 'Rapid', 'edphil81', 1944, 'KarpArrow', 1863, 'b4,e5,Bb2,f6,a3,d5,e3,Bf5,c4,d4,Nf3,d3,Nc3,e4,Nd4,Bg6,Qa4+,c6,O-O-O,Nd7,c5,Nh6,f3,f5,Ne6,Qc8,Nd4,Ne5,h3,Nc4,fxe4,fxe4,g4,Be7,Bg2,b5,cxb6,axb6,Qxc6+,Qxc6,Nxc6,Nxa3,Bxa3,Rxa3,Kb2,Ra8,Bxe4,Bxe4,Nxe4,b5,Rhf1,Rc8,Rc1,Kd7,Ne5+,Ke6,Nxd3,Rxc1,Rxc1,Rd8,Ndc5+,Kf7,d4,Bf6,Rf1,Ng8,Kc3,Ne7,Ng5+,Kg6,Nge6,Ra8,Kb3,Nd5,e4,Ne3,Rf3,Nc4,Nc7', 'Ra3+,Kc2,Rxf3', 'https://lichess.org/training/JCAD6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jcbAg', 'Rapid', 'GrandCheikJMLP', 1823, 'kavilla24', 1780, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,a3,d6,Nc3,Qc7,Nf3,Nd7,Be2,b5,O-O,Bb7,Bd3,Ngf6,Re1,Rc8,Bg5,Be7,Bxf6,Bxf6,h3,Bxc3,bxc3,Qxc3,Qc1,d5,exd5,Bxd5,a4,Bxf3,gxf3,Nc5,axb5,Nxd3,cxd3,axb5', 'Qxc3,Rxc3,Ra8+,Ke7,Rxh8', 'https://lichess.org/training/jcbAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JCbP7', 'Rapid', 'rodantero', 2142, 'tatvabodha', 1992, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Nf3,e6,cxd4,d6,Bc4,dxe5,dxe5,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O,Nb6,Bb3,Nc6,Rd1,Qc7,Qe2,Bd7,Na3,Na5,Rac1,Qb8,Bc2,Bc6,Nd4,Bd5,Bxh7+,Kxh7,Qh5+,Kg8,Rc3,Rd8,Rh3,Kf8,Qh8+,Ke7,Qxg7,Rg8,Qf6+,Ke8,Nf3,Nd7,Qf4,Bxa2,b4,Nc6,Rxd7,Nd8,Rd2,Bd5,Rh7,Qc7,Nc2,Bxf3,Qxf3,Rc8,g3,Nc6,Re2,Rd8,Kg2,Rd5,Qf6,Rxe5,Rxe5,Nxe5,Qxe6+,Kf8,Qh6+,Ke8,Nd4,Qd7,Qe3,Qd5+,Kg1', 'Qxd4,Qxd4,Nf3+,Kg2,Nxd4', 'https://lichess.org/training/JCbP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jccAT', 'Rapid', 'dstrrr', 1728, 'Jucacasti', 1721, 'e4,e5,Nc3,Bc5,Bc4,a5,Nf3,d6,d3,Bg4,a3,h6,h3,Bh5,g4,Bg6,Qe2,Nf6,Be3,Nbd7,Nd5,Nxd5,Bxd5,c6,Ba2,O-O,Bxc5,Nxc5,O-O-O,Qb6,h4,Na4,Bb3,Nc5,Ba2,Na4,Bb3,Nc5,Bc4,Na4,Bb3,Nc5,Ba2,Na4,b3,Nc3,Qd2,Nxd1,Kxd1,a4,b4,c5,h5,Bh7,g5,cxb4,axb4,Rac8,g6,Bxg6,hxg6,Kh8,gxf7,Qd8,Nh4,Qf6,Nf5,Rc7,Nxh6', 'Qf3+,Kc1,Qxh1+', 'https://lichess.org/training/jccAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jcdor', 'Rapid', 'troonking', 1793, 'Nespor', 1919, 'e4,c5,f4,e6,Nf3,Nc6,c3,d5,e5,a6,d4,Qb6,Bd3,cxd4,cxd4,Bd7,f5,Nxd4,Be3,Nxf3+,Qxf3,Bb4+,Nd2,Bxd2+,Bxd2,Ne7,f6,gxf6,exf6,Qxb2,Rb1,Qe5+,Be2,Nf5,O-O,Bc6,Qa3,Qxf6,Kh1,Qe5,Bf3,Qd6,Qb2,Kd7,Bb4,Qc7,Qf6,Qd8,Qe5,Qc7,Qf6,Qd8,Qe5,Kc8,Be2,Qc7,Qf6,Rg8,Rbc1,Qd7,Ba5,b5,Rc5,Kb7,Rfc1,Rac8,Bf3,Rg6,Qb2,Qd6,Bb4,Qf4,Qa3,e5,Bxd5,Ng3+,hxg3,Rh6+,Kg1,Qd4+,Kf1,Rh1+,Ke2,Rxc1,Qxc1,Qxb4,Bxc6+', 'Rxc6,Rxc6,Qe4+,Kf1,Qxc6', 'https://lichess.org/training/Jcdor');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JCdsm', 'Rapid', 'Bat-Khan', 1727, 'pluca64', 1656, 'Nf3,d5,c4,Nf6,e3,e6,d4,Ne4,Bd3,Bb4+,Bd2,Nxd2,Nbxd2,O-O,a3,Be7,O-O,c6,c5,b6,b4,a5,Qc2,g6,Ne5,Bf6,f4,Na6,Nxc6,Qd7,b5,Bg7,cxb6,Nb8,Ne5,Qb7,a4,Qxb6,Nb3,Bxe5,fxe5,Nd7,Nc5,Ra7,Rf2,Rc7,Rc1,Bb7,h4,Rfc8,h5,Nxc5,hxg6,hxg6,Bxg6,fxg6,Qxg6+,Rg7,dxc5', 'Rxg6,cxb6,Rxc1+', 'https://lichess.org/training/JCdsm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jcflR', 'Classical', 'LordGlek', 2141, 'Qomar_Cj', 1829, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,d5,dxe5,dxe4,Qxd8+,Nxd8,exf6,exf3,fxg7,Bxg7,gxf3,Bxc3+,bxc3,Bf5,Bd3,Bh3,Bg5,Bg2,Rg1,Bxf3,Bf6,Rf8,Bg7,Ne6,Bxf8,Nxf8,Kd2,O-O-O,Rg7,Bh5,Rg8,Bg6,c4,b6,Kc3,a5,f4,f5,c5,bxc5,Rd1,Kb8,Rb1+,Ka7,Rb5,Bf7,Rg7,Rd7,Rxc5,Ne6,Rxa5+,Kb6,Rxf5,Nxg7,Rb5+,Kc6,Rg5,Bxa2', 'Bb5+,Kd6,Bxd7', 'https://lichess.org/training/jcflR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JcFo7', 'Rapid', 'JoelsonSilva', 1887, 'Weslleyteixeira18', 1907, 'd4,e5,dxe5,Nc6,Nf3,Bc5,g3,Qe7,Bf4,h6,Nc3,g5,Bd2,Nxe5,Bg2,Nf6,O-O,d5,a3,d4,Nb5,c6,Nbxd4,O-O,Nb3,Bb6,Bc3,Rd8,Qc1,Nxf3+,Bxf3,Bh3,Bg2,Bxg2,Kxg2,Qe4+,Kg1,Nd5,e3', 'Nxe3,fxe3,Bxe3+,Qxe3,Qxe3+', 'https://lichess.org/training/JcFo7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jcg3X', 'Rapid', 'Aveyron', 1789, 'Zebrakid', 1867, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Nxe5,d5,Nxf7,Kxf7,Qf3+,Ke8,Bb3,c6,d3,Nf6,O-O,Be7,Bg5,Rf8,Bxf6,Rxf6,Qh5+,Rg6,Qxh7,Bf5,Qg8+,Bf8', 'Re1+,Be6,Rxe6+,Rxe6,Qxe6+', 'https://lichess.org/training/Jcg3X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JCHvs', 'Rapid', 'noamico1', 2037, 'titoine59', 2202, 'e4,c5,Nf3,d6,b3,Nc6,Bb5,Bd7,Bb2,a6,Bxc6,Bxc6,d3,Nf6,e5,dxe5,Bxe5,e6,O-O,Bd6,Qe2,Bxf3,gxf3,O-O,Kh1,Bxe5,Qxe5,Qd5,Qg3,Nh5,Qg4,Qd4,Nd2,Nf6,Qg5,Kh8,Ne4,Nxe4,fxe4,f6,Qg4,e5,Rg1,Rf7,Rae1,Qxf2,Re2,Qd4,h4,b5,h5,c4,Qe6,Rd7,h6,cxd3,hxg7+,Rxg7,Qxf6,Rg8,Rxg7,dxe2,Rf7+,Rg7', 'Qxg7#', 'https://lichess.org/training/JCHvs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JcIkp', 'Rapid', 'greend', 1855, 'RyanM', 1879, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,c3,g6,d4,cxd4,cxd4,Bg7,Be3,Nf6,e5,dxe5,dxe5,Qxd1,Rxd1,Ng4,Bf4,Ngxe5,Nxe5,Nxe5,Nc3,Rd8,Nb5,O-O,Nxa7,Nc4,Rxd8,Rxd8,Nb5,e5,Be3,Nxe3,fxe3,Rd2,Rb1,e4,Nd4,Bxd4,exd4,Rxd4,a3,f5,b4,Kf7,Rb2,Ke6,g3,Kd5,Kf2,Rd3,a4,Ra3,a5,Kc4,h3,Rb3', 'Rxb3,Kxb3,b5', 'https://lichess.org/training/JcIkp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jciWI', 'Rapid', 'Vladimir410', 1846, 'raj555', 1912, 'e4,c5,c4,Nc6,d3,e6,a3,d6,b4,Be7,Nf3,Nf6,b5,Nd4,Nxd4,cxd4,Be2,a6,Qa4,axb5,Qxa8,bxc4,dxc4,Nxe4,Bb2,e5,Nd2,O-O,Nxe4,Qb6,Qa4,Qxb2,Qd1,Bf5,Ng3,Qc3+,Kf1,Bg6,Qc1,Qa5,Bf3,b5,cxb5,Qxb5+,Kg1,d5,h3,e4,Bg4,Bf6,Rb1,Qa5,Bf5,d3,Bxg6,hxg6,Kh2,Qa7,Rf1,Be5,Kh1,f5,f4,exf3,Rxf3,Qd4,Rb4,d2,Qd1,Qa1,Qxa1,Bxa1,Rd3,Be5,Ne2,Rc8,g3', 'Rc1+,Kg2,d1=Q,Rxd1,Rxd1', 'https://lichess.org/training/jciWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JcJMT', 'Rapid', 'Paul2K', 1799, 'MarianSchachMeister', 2056, 'c4,e5,Nf3,Nc6,g3,Nf6,Qc2,d5,cxd5,Nxd5,h4,g6,g4,Bxg4,Ng1,Bf5,Qb3,Be4,f3,Bf5,Qxb7,Rb8,Qxc6+,Qd7,Qc4,Bb4,e4,Ne3,Qb3', 'Bxd2+,Nxd2,Rxb3', 'https://lichess.org/training/JcJMT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jCLAW', 'Classical', 'xcionism', 1657, 'AspandaBurkut', 1662, 'e4,Nc6,d4,f6,Nc3,e5,d5,Nce7,Be3,f5,Qe2,fxe4,Nxe4,Nxd5', 'Qh5+,g6,Qxe5+', 'https://lichess.org/training/jCLAW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jcLeA', 'Classical', 'mehrad12', 1958, 'Lukas_carlsen', 1885, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Be2,d6,Be3,b6,g4,Bb7,f3,c5,d5,e6,h4,exd5,cxd5,Re8,Qd2,Qe7,h5,Nbd7,hxg6,fxg6,Bb5,a6,Bc6,Bxc6,dxc6,Ne5,Nd5,Nxd5,Qxd5+,Kh8,O-O-O,Rac8,Qxd6,Qxd6,Rxd6,Rxc6,Rxc6,Nxc6,Ne2,Ne5,Nf4,Nc4,Bd2,Bxb2+,Kc2,Nxd2,Kxd2,Bf6,Nxg6+,Kg7,Nf4', 'Bg5,Kc2,Bxf4', 'https://lichess.org/training/jcLeA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jCLHP', 'Rapid', 'bonjing5ko', 1805, 'jmllibanio', 1790, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nxc3,Be6,Bxe6,fxe6,Qb3,e5,Qxb7,Nd7,Nd5,Rb8,Qxc7,Qxc7,Nxc7+,Kf7,Nd5,Ngf6,Nxf6,gxf6,f3,Rg8,g3,Nc5,b3,Nd3+,Kd2', 'Nf2,Ke2,Nxh1', 'https://lichess.org/training/jCLHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jCohX', 'Classical', 'Imri', 1839, 'shahzadeh1386', 1802, 'd4,d5,Bf4,g6,Nf3,Nf6,Qd2,Bg7,Bh6,O-O,Bxg7,Kxg7,e3,Ne4,Qe2,c5,Nbd2,Nc6,c3,Bg4,h3,Bxf3,gxf3,Nxd2,Qxd2,cxd4,exd4,Qa5,f4,b5,a3,Rfd8,h4,Rab8,h5,b4,hxg6,bxc3,Rxh7+,Kg8,bxc3,fxg6,Rh6,Kf7,f5,gxf5,Rxc6,Rdc8,Qh6,Rxc6,Qxc6,Rb3,Rc1,Qxa3,Qxd5+,e6,Qd7+,Kf6,Qd8+,Kf7,Qc7+,Kg6,Kd1,Qa4,Qc4', 'Rb4+,Kd2,Rxc4', 'https://lichess.org/training/jCohX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jcPii', 'Rapid', 'desetibrat', 1757, 'belalahmed2004', 1796, 'e4,e5,Nf3,Nc6,Nc3,Bb4,d3,h6,Bd2,Nf6,Be2,d6,a3,Ba5,b4,Bb6,O-O,Bg4,h3,Bh5,Nd5,Nxd5,exd5,Ne7,c4,a6,Qc1,Ng6,Bc3,Qf6,Kh1,Nf4,Qd2,Nxe2,Qxe2,Bxf3,Qxf3,Qxf3,gxf3,f5,Rae1,O-O-O,f4,Bd4,Bxd4,exd4,a4,Rde8,Rxe8+,Rxe8,Rg1,Rg8,Rg6,Kd7,b5,axb5,axb5,b6,Kg2,Ke7,Kf3,Kf7,Re6,Re8,Rxe8,Kxe8,Kg3,Kf7,Kh4,Kg6,Kg3,Kh5,h4,g5,fxg5,hxg5,hxg5,Kxg5,f4+,Kh5,Kf3', 'Kh4,Kg2,Kg4', 'https://lichess.org/training/jcPii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jCpOc', 'Rapid', 'zzippy', 1900, 'xxyy1', 1990, 'e4,e5,d4,exd4,c3,Nc6,cxd4,d6,d5,Ne5,Nc3,Nf6,Bb5+,c6,dxc6,bxc6,Ba4,Be7,Nf3,Nxf3+,Qxf3,Bd7,O-O,O-O,Bc2,h6,Re1,Bg4,Qg3,Qd7,e5,Nh5,Qd3,g6,exd6,Bxd6,Bxh6,Bf5,Qd2,Rad8,Bxf5,Qxf5,Bxf8', 'Bxh2+,Kxh2,Rxd2', 'https://lichess.org/training/jCpOc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JCqJN', 'Rapid', 'BhardwajPandit', 1746, 'fullypartial', 1714, 'e3,e5,d4,Nc6,c3,d5,Ne2,Nf6,Ng3,Bd6,Be2,h6,Nd2,exd4,cxd4,Bxg3,hxg3,O-O,Nf3,Ng4,Ne5,Ncxe5,dxe5,c5,f3,Nxe5,Rh5,Re8,f4,Bg4,Bxg4,Nxg4,Qxg4,d4,Kf2,dxe3+,Bxe3,Qd3,Re1,Rad8,Rxh6,Rxe3,Rxe3,Qd2+,Re2,Qd4+,Re3,Re8,Rd6', 'Qxe3+,Kf1,Qe1#', 'https://lichess.org/training/JCqJN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jCqYB', 'Rapid', 'ABIRAJ', 1702, 'Optifresh', 1768, 'd4,e6,Nf3,d5,g3,c5,Bg2,cxd4,Nxd4,h6,O-O,Nf6,Bf4,Nc6,Nb5,e5,Bc1,a6,N5c3,Be6,e3,Be7,b3,O-O,Bb2,Bg4,Qd2,d4,exd4,exd4,Ne4,Bb4,Qf4,Be2,Nxf6+,Qxf6,Qxf6,gxf6,Rc1,Bd2,Nxd2,Rad8,Re1,Rfe8,Bxc6,bxc6,Nc4,c5,Ba3,Rd5,f4,Kf8,Kf2,Bg4,Rxe8+,Kxe8,Re1+,Kf8,Nb6,Rh5,h4,Be6,Bxc5+,Rxc5,Rxe6', 'Rxc2+,Re2,d3', 'https://lichess.org/training/jCqYB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JcSrv', 'Classical', 'RajTanna', 1751, 'Axalay', 1670, 'd4,d5,Bf4,Nc6,e3,a6,Bd3,g6,c3,Bg7,Nd2,e5,dxe5,Bxe5,Ne2,Bxf4,Nxf4,Ne5,Be2,Ne7,Qa4+,c6,Qd4,Qc7,Rc1,Nf5,Qa4,Bd7,Qb4,a5,Qa3,Nd6,c4,dxc4,Nxc4,Nexc4,Bxc4,O-O,O-O,Nxc4,Rxc4,Rfe8,Nd5,Qd8,Nc3', 'b5,Rd4,b4', 'https://lichess.org/training/JcSrv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jcT3q', 'Rapid', 'Abidine_abdou', 1623, 'endgame_training', 1884, 'd4,Nf6,Bf4,g6,Nf3,Bg7,Nc3,d5,Qd2,O-O,Bh6,Bf5,Bxg7,Kxg7,e3,Nbd7,Bd3,Bxd3,Qxd3,c5,Ne5,c4,Qd2,Nxe5,dxe5,Nd7,f4,a6,Qxd5,Qb6,O-O-O,Qxe3+,Kb1,Nb6,Qxb7,Rfb8,Qxe7,Nc8,Qf6+,Kh6,Qg5+,Kg7,Rd7,Rxb2+,Kxb2,Rb8+,Nb5', 'Rxb5+,Ka1,Qc3#', 'https://lichess.org/training/jcT3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jctRt', 'Rapid', 'cico_87', 1728, 'GIANNISPAP39', 1724, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,e5,Qb6,Qxb6,axb6,Bd3,d6,exd6,Bxd6,O-O,Nf6,Nc3,Be6,Ne4,Nxe4,Bxe4,O-O-O,a4,Rhe8,Bxh7,g6,Bg5,Rd7,a5,Rh8,Bxg6,fxg6,h3,bxa5,Rxa5,Kb8', 'Rfa1,b6,Ra8+', 'https://lichess.org/training/jctRt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JCuio', 'Blitz', 'fritzgrant', 1561, 'vedo15', 1566, 'e4,e5,Nf3,d6,Bc4,Nc6,d3,Nf6,c3,Be7,h3,Bd7,O-O,Na5,Bb3,Nc6,Bc2,Be6,Nbd2,Qd7,Kh2,Bxh3,gxh3,O-O-O,a4,Rdg8,b4,g5,Ng1,g4,h4,h5,b5,Na5,c4,Rg6,d4,Rhg8,dxe5,g3+,fxg3,Ng4+,Kh1,Nxe5,Bb2,Rxg3,Bxe5,Rh3+,Nxh3', 'Qxh3+,Bh2,Qg2#', 'https://lichess.org/training/JCuio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JCUMW', 'Blitz', 'tecnonico', 2100, 'szeweningen2', 2148, 'e4,c5,Nc3,d6,g3,g6,Bg2,Bg7,d3,Nc6,Be3,e6,Qd2,Nge7,Bh6,O-O,h4,Nd4,O-O-O,Qa5,h5,Bh8,Bxf8,Kxf8,hxg6,Nxg6,Rxh7,Bg7,Kb1,b5,Nf3,Nxf3,Bxf3,b4,Ne2,Rb8,Rdh1,Rb7,Rxg7,Kxg7,Qh6+,Kf6,Nf4,Rb6,Nxg6,fxg6,Qh8+,Ke7,Qxc8,Ra6,Rh7+,Kf6,Qh8+,Kg5,Kc1,b3,axb3', 'Qe1+,Bd1,Ra1#', 'https://lichess.org/training/JCUMW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jcUuh', 'Rapid', 'garrylan', 1828, 'Ronnyhernandez89', 1800, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,Nf3,Bg4,O-O,e6,h3,Bxf3,Qxf3,Be7,d3,O-O,Nc3,Nc6,a3,Nd4,Qd1,Nxb3,cxb3,a6,b4,b5,Be3,Qc7,Rc1,Qd8,Ne2,Rc8,Bc5,Bd6,d4,Qd7,Qd2,Ne4,Qd3,Nxc5,bxc5,Bb8,b4,Qc7,g3,h5,Kg2,g6,Qf3,a5,Nf4,axb4,axb4,Qc6,Nd3,Bc7,Ne5,Bxe5,dxe5,Ra8,Qf4,Ra4,Rfe1,Rfa8,Re3,d4+,Rf3,Rxb4,Qxf7+,Kh8,Qxg6,d3,Qxh5+,Kg7,Qg5+,Kh8,h4,Rb3,Qh6+,Kg8,Qg6+,Kh8,h5,d2,Qf6+,Kg8,Qf7+,Kh8,Qf6+,Kg8,Rd1,Rxf3', 'Qxf3,Qxf3+,Kxf3', 'https://lichess.org/training/jcUuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jcV3o', 'Rapid', 'Vytautas1983', 1939, 'Misha1998eboy', 1950, 'e4,e5,f4,Nc6,Nf3,exf4,d4,d5,exd5,Qxd5,Bxf4,Qe4+,Qe2,Bf5,Qxe4+,Bxe4,Bxc7,Bxf3,gxf3,Nxd4,Bd3,Rc8,Be5', 'Nxf3+,Kf2,Nxe5', 'https://lichess.org/training/jcV3o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jcWGf', 'Rapid', 'VladGruzdov', 1876, 'Lisandro_88', 1879, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,b6,e5,Bc5,Qf4,Qe7,Be3,Bxe3,Qxe3,Ng4,Qe4,Qxe5,Qxe5+,Nxe5,Nd5,O-O,Nxc7,Rb8,Be2,Bb7,O-O-O,Rfc8,Na6,Bxa6,Bxa6,Rc5,f4,Ng4,Rxd7,Ra5,Rhd1,g6,Bc4,Rf5,h3,Ne3,Rd8+,Rxd8,Rxd8+,Kg7,Bd3,Rxf4,g3,Rf3,Rd7,a5,Rb7,Nf1,Rxb6,Nxg3,Ra6,Nf5,Rxa5,Rxh3,Bxf5,gxf5,Rxf5,Rh1+,Kd2,h5,b3,h4,a4,h3,a5,Rg1,Rh5,Rg2+,Kc3,f5,Rxh3,f4,a6,Rg3+,Rxg3+,fxg3,a7,g2,a8=Q,g1=Q,Qb7+,Kf6,Qc6+,Kf7,Qd7+,Kf8,Qd8+,Kf7,Qd7+,Kf8,Qf5+,Ke7,Qh7+,Kf8,Qh8+,Ke7,Qe5+,Kf8,b4', 'Qa1+,Kc4,Qxe5', 'https://lichess.org/training/jcWGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JCWm8', 'Classical', 'dt1980', 1669, 'IsmailHakkisayar', 1662, 'e4,c5,Nf3,Nc6,d4,Qb6,dxc5,Qxc5,Nc3,Nf6,Nb5,Nxe4,Nc7+,Kd8,Be3,Qa5+,c3,Qxc7,Qd5,Nd6,Bf4,e6,Bxd6,Bxd6,Qg5+,Ne7,Qxg7,Ng6,Qxf7,Ne5', 'Qf6+,Ke8,Qxh8+', 'https://lichess.org/training/JCWm8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jCZx3', 'Blitz', 'Nurali0109', 1673, 'Damba67', 1709, 'e4,e6,d4,d5,Nc3,Bb4,exd5,exd5,Nf3,Be6,Bd3,h6,O-O,Nf6,Ne2,Nbd7,Nf4,Bd6,Nxe6,fxe6,Bg6+,Kf8,Qe2,Qe7,Ne5,Bxe5,dxe5,Ne4,Bxe4,dxe4,Qxe4,c6,Be3,Nb6,f4,Nd5,Bd4,Rd8,f5,exf5,Rxf5+,Kg8,e6,Nf6,Bxf6,gxf6,Raf1,Rf8,Rd1,Rd8,Rxd8+,Qxd8,Rd5,cxd5', 'Qg6+,Kf8,Qf7#', 'https://lichess.org/training/jCZx3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JD0rf', 'Rapid', 'wolo92', 1834, 'Ehap_elsharif123', 1768, 'd4,g6,Bf4,Bg7,Nc3,d6,e4,Nf6,f3,O-O,Qd2,c5,d5,Qb6,O-O-O,a5,Bh6,Nbd7,Bxg7,Kxg7,g4,a4,a3,Ne5,h4,Qc7,h5,Rh8,hxg6,fxg6,Qh6+,Kf7,g5,Ng8,Qh2,Bd7,Qf4+,Ke8,Bb5,Bxb5,Nxb5,Qb6,Nc3', 'Nc4,Rd3,Qxb2+', 'https://lichess.org/training/JD0rf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JD3HA', 'Rapid', 'Stop2go', 1824, 'fil_filipe_freitas', 1768, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,h6,c3,a6,d4,exd4,cxd4,Ba7,Be3,Nf6,Nc3,O-O,e5,Nh7,Re1,Ne7,Qc2,c6,Bd3,g6,Bxh6,Re8,Nh4,d5,Nxg6,Nxg6,Bxg6,Nf8,Bf5,Bxd4,Bf4,Qh4,Bg3,Qg5,Bxc8,Raxc8,Rad1,Bxe5,Bxe5,Rxe5,Rxe5,Qxe5,Nxd5,Rd8,Ne3,Rxd1+,Qxd1,Qxb2,Qg4+,Ng6,h4,Qa1+,Kh2,Qe5+,g3,Kh7,Nf5,Qf6,Qh5+,Kg8,Nh6+,Kf8,Qc5+,Ne7,Ng4,Qe6,Ne5,Qxa2,Nd7+,Ke8,Nf6+,Kf8,Qe3,Nf5,Nd7+,Kg8,Qg5+,Ng7,Qd8+,Kh7,Nf6+,Kg6,Ng4,Qe6', 'Qg5+,Kh7,Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/JD3HA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jd3sC', 'Rapid', 'diapason9', 2084, 'Messimirek', 2082, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,e4,d6,h3,Nbd7,Be2,c5,d5,Ne8,Bd3,Ne5,Nxe5,Bxe5,O-O,f5,exf5,Bxf5,Bh6,Ng7,Qd2,e6,Rae1,Qh4,Bxf5,exf5,b3', 'Bxc3,Qxc3,Qxh6', 'https://lichess.org/training/jd3sC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jd4P1', 'Rapid', 'kendradastan', 2009, 'StievOtodidhak', 1977, 'e4,b6,f4,Bb7,Nc3,e6,Nf3,c5,Bc4,a6,O-O,b5,Be2,Nc6,d4,d5,dxc5,Bxc5+,Kh1,Nge7,exd5,Nxd5,Ne4,Be7,Qe1,O-O,c3,Qb6,Qg3,Nf6,Nxf6+,Bxf6,Bd3,Rad8,Bc2,Rd7,Ng5,Bxg5,Qxg5,Rd5,Qg3,Rfd8,Be3,Qc7,Qh3,g6,Qh6', 'Rh5,Qxh5,gxh5', 'https://lichess.org/training/jd4P1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jd4wX', 'Blitz', 'SergioDanielCaceres', 1636, 'Fairfield_sg_dover', 1756, 'd4,Nf6,Nf3,c5,d5,e6,dxe6,fxe6,Nbd2,Be7,e4,O-O,e5,Nd5,c4,Nf4,g3,Ng6,Bd3,Nc6,Bxg6,hxg6,O-O,d5,cxd5,exd5,Re1,Be6,Qc2,Qe8,Nh4,Bxh4,gxh4,Qe7,Qxg6,Qxh4,Qxe6+,Kh8,Rf1,Nd4,Qxd5,Ne2+,Kh1,Rxf2,Rxf2,Qxf2,Nf3', 'Qf1+,Ng1,Qxg1#', 'https://lichess.org/training/jd4wX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jd59g', 'Rapid', 'Carp-77', 1769, 'mdogo', 1882, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Bxf7+,Kxf7,Nxe5+,Nxe5,d4,Nxe4,dxc5,c6,Qd4,Qf6,Qxe4,Re8,f4,Ng4,Qc4+,d5,Qc3,d4,Qf3,Bf5,Nd2,d3,Nc4', 'Qd4+,Kh1,Qxc4', 'https://lichess.org/training/jd59g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jd7zG', 'Blitz', 'FM RobPeresian', 2470, 'ProfSLM', 2417, 'Nf3,d5,d4,Nf6,c4,dxc4,Nc3,a6,e4,b5,a4,b4,e5,Nd5,Ne4,e6,Bxc4,a5,O-O,Ba6,Bxa6,Nxa6,Bg5,Be7,Qc2,O-O,Rac1,Bxg5,Nexg5,g6,h4,h6,Ne4,Rc8,h5,g5,g3,Kg7,Kg2,c5,dxc5,Rc6,Qe2,Qe7,Qb5,Rfc8,Qxa5,Nxc5,Nxc5,Rxc5,Rxc5,Rxc5,Qa6,Qc7,Qd3,Qc6,Kh2,Qxa4,Qd4,Qc6,Qg4,b3,Nxg5,hxg5,Qxg5+,Kh7', 'h6,f6,Qg7#', 'https://lichess.org/training/Jd7zG');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 19;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet2 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1MLzO', 'Rapid', 'Howardzinn', 1895, 'massarakcsh', 1801, 'e4,e5,Nf3,Nc6,Nc3,Bc5,d4,exd4,Nd5,Nf6,Bc4,Na5,Qd3,Nxc4,Qxc4,b6,Bg5,c6,Nxf6+,gxf6,Bh4,Qe7,O-O-O,Bb7,Nxd4,O-O-O,Nf5,Qe5,f4,Qxf4+,Kb1,d5,exd5,Qxf5,dxc6,Rxd1+,Rxd1,Bxc6,Qxf7,Rd8,Re1,Be4,Bxf6,Bxc2+,Ka1,Rd1+,Rxd1,Bxd1,Qe8+,Kb7,Qf7+,Ka6,a3,Bb3,Qxb3,Qxf6,Qc4+,Kb7,Qd5+,Qc6,Qf7+,Qc7,Qd5+,Kb8,Qg8+,Kb7,Qd5+,Ka6,Qc4+,b5,Qe6+,Bb6,Ka2,Qxh2,g4,Qf4', 'Qc8+,Ka5,b4+,Qxb4,axb4+', 'https://lichess.org/training/1MLzO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mMEr', 'Rapid', 'Dima1992', 2066, 'GarboBot', 2179, 'e4,e5,Bc4,Nf6,d3,Nc6,c3,Na5,Bb5,c6,Ba4,b5,Bc2,d5,exd5,cxd5,Bg5,h6,Bh4,g5,Bg3,Bd6,Nd2,O-O,h4,Bg4,f3,Bf5,hxg5,hxg5,Qe2,Qb6,O-O-O,b4,Bxe5,bxc3,Bxc3,d4,Bxa5,Qxa5,Nc4,Bf4+,Kb1,Qc5,Nh3,Rfe8,Qf2,Bxh3,Rxh3,Be3,Nxe3,Rxe3,Rdh1,Rf8,g4,Kg7,Qh2,Rfe8,Qf2', 'Re2,Qxe2,Rxe2', 'https://lichess.org/training/1mMEr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mMxc', 'Rapid', 'Rakeshpiprali', 1931, 'indigo_knight', 1919, 'e4,e6,d4,d5,exd5,exd5,Bd3,c5,dxc5,Bxc5,Nf3,Ne7,O-O,O-O,Re1,Bg4,Qe2,Nbc6,h3,Bh5,Nbd2,Qc7,Rf1,Nb4,Qe5,Qxe5,Nxe5,Nxd3,Nxd3,Bb6,Ne5,Rad8,Nb3,d4,Bd2,Nc6,Nd3,Rfe8,Nf4,Bg6,Nxg6,fxg6,Rfe1,d3,Rxe8+,Rxe8,cxd3,Re2,Re1,Bxf2+,Kf1,Rxd2,Nxd2,Bxe1,Kxe1,Nd4,Nc4,Nc2+,Kd2,Nb4,a3,Nd5,Nd6,b6,b4,Kf8,d4,Nf4,Nc8,a6,Nxb6,Nxg2,Kd3,Nf4+,Kc4,Nxh3,Kc5,Ng5,Nd7+,Ke7,Kc6,h5,d5,h4,d6+,Kd8,Ne5,h3,Ng4,Nf3,a4,h2,Nxh2,Nxh2', 'b5,a5,b6,Nf3,b7', 'https://lichess.org/training/1mMxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mODy', 'Rapid', 'kumarsultania', 1743, 'Krumskoi', 1771, 'e4,c5,Bc4,e6,Qf3,Nc6,c3,d5,exd5,exd5,Bb3,c4,Ba4,Nf6,Bxc6+,bxc6,d3,cxd3,Qxd3,Ne4,Nf3,Bf5,Qa6,Bc5,Qxc6+,Bd7,Qxd5,Bxf2+,Kf1,Bb5+,c4,Bxc4+,Qxc4', 'Qd1+,Ne1,Qxe1#', 'https://lichess.org/training/1mODy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mpum', 'Rapid', 'FrereKeiser', 1756, 'Delfoscabernard', 1658, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nxc6,dxc6,Nc3,Bd7,Bd3,O-O-O,O-O,e5,Na4,Qc7,f4,f6,fxe5,fxe5,Be3,Kb8,Rf7,Nf6,Nc5,Qd6,Nxd7+,Rxd7,Rxd7,Qxd7,Qf3,Bd6,Bg5,Rf8,Rf1,h6,Be3,b6,Kh1,Ng4,Qe2', 'Rxf1+,Qxf1,Nxe3', 'https://lichess.org/training/1mpum');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1MQ16', 'Rapid', 'zapatapak', 1831, 'Crawford', 1852, 'e4,c5,Nf3,e6,Bc4,Nc6,Nc3,Nf6,d3,d5,exd5,exd5,Qe2+,Be7,Bb5,O-O,O-O,a6,Bxc6,bxc6,Bg5,Bg4,Kh1,Re8,Qd2,Qd6,Bf4,Qd7,Ne5,Qc8,f3,Be6,Ne2,Nh5,Ng3,Nxf4,Qxf4,Bf6,d4,cxd4,Qxd4,c5,Qf4,d4,Nh5,Be7,Qg3,Bf8,Rfe1,Bf5', 'Nf6+,Kh8,Nxf7#', 'https://lichess.org/training/1MQ16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mr21', 'Rapid', 'vasilit', 1760, 'MatthewPikus', 1723, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,cxd4,cxd4,Bb4+,Nc3,Nge7,O-O,Nf5,Nb5,a6,Nd6+,Bxd6,exd6,Ncxd4,Nxd4,Nxd4,Be3,Nxe2+,Qxe2,Qxd6,Rfc1,Bd7,Bc5,Qf4,g3,Qh6,Qe5,Rc8,Qd6,Qg5,Be3,Rxc1+,Rxc1,Qd8', 'Bb6,Qxb6,Qxb6', 'https://lichess.org/training/1mr21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1MrO4', 'Rapid', 'Leagon', 1742, 'seya26', 1723, 'Nf3,d5,d4,Nc6,c4,e6,Nc3,Nf6,Bg5,Bb4,a3,Bxc3+,bxc3,h6,Bf4,Ne4,Qc2,O-O,Nd2,f5,Nxe4,fxe4,e3,Qf6,Be2,e5,dxe5,Nxe5,cxd5,g5,Bg3,Ng4,O-O,Bf5,Bxg4,Bxg4,Qxe4,Be2,Rfe1,Rae8,Qc2,Bc4,e4,h5,f3,h4,Bxc7,Qe7,d6,Qe5,d7,Qxc7,dxe8=Q,Rxe8,h3,Qg3,Qf2,Qe5,Qd4,Qc7,Qxa7,Ba6,Re3,Qf4,Rae1,Rd8,Qc5,Rd2,Qf5,Qg3,Qg4', 'Rxg2+,Kh1,Rh2#', 'https://lichess.org/training/1MrO4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mt6v', 'Rapid', 'jandilson-cursino', 1900, 'kevinotos', 1920, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Bg4,O-O,e6,c4,Ne4,Nc3,Bb4,cxd5,Bxc3,Bxe4,exd5,Bc2,Ba5,Ba4+,Nd7,Qe2+,Qe7,Qxe7+,Kxe7,Bxd7,Bxf3,Bh3,Bh5,a3,h6,b4,Bb6,Be3,g5,Rfe1,Kf6,Rac1', 'g4,Bxg4,Bxg4', 'https://lichess.org/training/1mt6v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mUyd', 'Rapid', 'eegeka', 1750, 'Joinis', 1911, 'e4,e5,Bc4,d6,d4,Nd7,Nf3,Nb6,Bb3,exd4,O-O,Nf6,Bg5,Be7,Nxd4,c5,Nf3,c4,e5,dxe5,Qxd8+,Bxd8,Nxe5,cxb3,axb3,O-O,Nc3,Re8,Rfe1,Bc7,Nf3,Rxe1+,Rxe1,Bg4,Ne5,Re8,Kf1,Bxe5,Bxf6,gxf6,f4,Bxf4', 'Rxe8+,Kg7,Re4,Bf5,Rxf4', 'https://lichess.org/training/1mUyd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mvqz', 'Rapid', 'firat82', 1702, 'DEV_D_0', 1691, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Be2,e5,d5,Nbd7,Bg5,a5,O-O,b6,Qc2,Bb7,Rad1,Nc5,a3,Qc8,b4,Ncd7,Bd3,Rd8,Rfe1,axb4,axb4,Qb8,Qd2,Rc8,h3,Nh5,g4,Nf4,Bxf4,exf4,Qxf4,Bxc3,Ng5,f6,Ne6,Bxe1,Qh6,Bxf2+,Kxf2,Ra2+,Ke1,Kf7,Qxh7+,Ke8,Qxg6+,Ke7,Qg7+,Ke8,e5,Nxe5,Qf8+,Kd7,Qg7+,Ke8,Bh7,Qa8,Bf5,Qa3,Qf8+,Kd7', 'Nd4#', 'https://lichess.org/training/1mvqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mxhN', 'Classical', 'Alishazly231', 1832, 'gametimer', 1765, 'Nf3,e6,e4,g6,d4,Bg7,c4,Ne7,Nc3,O-O,Bf4,d6,Bd3,Re8,e5,Nbc6,a3,dxe5,dxe5,Nd4,O-O,Nef5,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/1mxhN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1mzZq', 'Rapid', 'Jimonios', 2461, 'omerbeyazitmalgac_21', 2252, 'e4,e5,Nf3,Nc6,b3,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,Bb2,d6,d3,Bg4,h3,Be6,Nd5,Bxd5,Bxd5,Nxd5,exd5,Ne7,c4,c6,dxc6,bxc6,d4,exd4,Bxd4,Nf5,Bxg7,Kxg7,Nd4,Nxd4,Qxd4+,Qf6,Rad1,Rfd8,h4,d5,h5,gxh5,Qd3,Qg6,Qc3+,Qf6,Qg3+,Qg6,Qc7,Rac8,Qxa7,dxc4,bxc4,Ra8,Qc7,Rxd1,Rxd1,Rxa2,Qe5+,Qf6,Qg3+,Qg6,Qf3,Ra5', 'Qc3+,Qf6,Qxa5', 'https://lichess.org/training/1mzZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1N07y', 'Classical', 'Bayran', 1633, 'ardasozat', 1745, 'c4,c6,e4,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qa5,Nf3,Nc6,Bc4,Bf5,Qb3,O-O-O,d4,e6,Bg5,Nxd4,Nxd4,Rxd4,Be3,Rd8,O-O,Nf6,Ne2,Bd6,Nd4,a6,Nxf5,Qxf5,Rac1,Bc7,Bb6,Rd7,Bxc7,Rxc7,Qb6,Qf4,g3,Qxc4,Rxc4,Rxc4,b3,Rc6,Qe3,h6,Rc1,Rxc1+,Qxc1+,Kb8,Qf4+,Ka8,Qc7,Rf8,a4,Nd5,Qe5,Rg8,f4,g6,Qd4,h5,b4,Rc8,Qg7,Rc1+,Kg2,Rc2+,Kh3,Rc7,a5,Ka7,Qd4+,Kb8,Qb2,f6,b5,Rc3,bxa6', 'Nxf4+,Kh4,g5#', 'https://lichess.org/training/1N07y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1n1yr', 'Rapid', 'JKawala', 1938, 'JoJack', 1710, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bb5+,Nc6,O-O,e6,Ne5,Rc8,c3,Nf6,Qa4,Qd6,Qxa7,Qc7,Bf4,Bd6,Nxc6,bxc6,Qxc7,Bxc7,Bxc7,Rxc7,Be2,Nd7,Nd2,c5,dxc5,Rxc5,Nb3,Rc7,Bb5,Ke7,Nd4,Be4,f3,Bg6,Bxd7,Kxd7,a4,Rb8,Nb5,Rc4,b3,Rc6,Rfc1,Bd3,Nd4,Rc7,b4,Rbc8,a5,Rxc3,Rxc3,Rxc3,a6,Rc8,a7,Ra8,b5,Kc7,Ra3,Bc4,Ra5,Kb6,Ra6+,Kc5,Rc6+,Kxd4,b6,Ba6,Rc7,Ke3,b7,Bxb7,Rxb7,d4,Kf1,Kd2,Rxf7,d3,Rxg7,Ke3,Re7,Kd2,Rd7,Kc2,Ke1', 'Rxa7,Rxa7,d2+,Kf2,d1=Q', 'https://lichess.org/training/1n1yr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1N3qr', 'Rapid', 'bogoyence', 1918, 'XxxxxPolatalemdar', 2059, 'd4,d5,c4,e6,e3,Nf6,Nf3,c5,Nc3,Nc6,Be2,dxc4,Bxc4,cxd4,exd4,Bb4,O-O,O-O,a3,Bd6,Bg5,e5,Ne4,exd4,Nxf6+,gxf6,Bh6,Re8,Qb3,Re7,Nxd4,Nxd4,Qd3,Bf5,Qd1,b5,Ba2,Ne6,g4,Be4,f3,Be5,fxe4,Qb6+,Kg2,Rd8,Qe2,Nd4,Qf2,Qa5,b4,Qc7,Rac1,Qb8,Bf4', 'Bxf4,Qxf4,Qxf4,Rxf4,Ne2', 'https://lichess.org/training/1N3qr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1N4W1', 'Rapid', 'darwinski', 1815, 'hanifics', 1777, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,d4,exd4,Nxd4,Ne5,Bxd7+,Qxd7,O-O,O-O-O,a4,Be7,a5,a6,b4,Nc6,c3,Nf6,b5,Nxd4,Qxd4,Qxb5,Nd2,Qc5,Qa4,Qxc3,Re1,Nd7,Re3,Qc6,Qa2,Rhf8,Bb2,Bf6,Rc1,Qb5,Rb3,Qe2,Bxf6,Nxf6,Qc2,Rd7,Rc3,c6,Re3,Qb5,Nc4,Kb8,Rb3,Qc5,Qb2,Re8', 'Nb6,Qxc1+,Qxc1', 'https://lichess.org/training/1N4W1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1NC4R', 'Rapid', 'nerceiram', 1914, 'CaglarXxxc', 2263, 'd4,d6,c4,e5,dxe5,Nc6,Nf3,Bg4,Bg5,Be7,Bxe7,Ngxe7,exd6,cxd6,e3,d5,Nc3,d4,exd4,Bxf3,Qxf3,Nxd4,Qd1,Nec6,Be2,O-O,O-O,Re8,Bf3,Qh4,Bxc6,bxc6,Qd3,Rad8,Qg3,Qe7,h3,Qb4,b3', 'Qxc3,Qxc3,Ne2+,Kh2,Nxc3', 'https://lichess.org/training/1NC4R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1NcdP', 'Blitz', 'Charlie_Moriu', 1682, 'Sakuma', 1671, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,e5,d5,c4,e6,cxd5,Qa5+,Nc3,cxd5,Qg4,g6,Bb5+,Bd7,Bxd7+,Kxd7,O-O,h5,Qd4,Bc5,Qf4,Ke7,Qg5+,Kd7,Be3,Ne7,a3,Bxe3,Qxe3,Nf5,Qf4,Rhc8,h3,Ke7,g4,hxg4,hxg4,Rc4,Qg5+,Kd7,gxf5,gxf5,Qf6,Rg4+,Kh2,Qd8,Qxf7+,Kc6,Qxe6+,Kc7,Nxd5+,Kb8,Nf4,Qh8+,Nh3,Kb7,Rad1', 'Qxh3+,Kxh3,Rh8+,Qh6,Rxh6#', 'https://lichess.org/training/1NcdP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1nCXC', 'Blitz', 'kaiserAbacus', 2253, 'Shumiakinas', 2301, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,O-O,Nge2,Nc6,O-O,Nh5,Be3,e5,d5,Nd4,Bxd4,exd4,Nb5,f5,Nbxd4,f4,f3,c6,Rb1,Bd7,dxc6,bxc6,b4,Be5,b5,c5,Nb3,Be6,Qc2,g5,a4,g4,fxg4,Bxg4,Nd2,Qh4,Nf3,Bxf3,Rxf3,Kh8,Qc1,Rg8,Qe1,Ng3,Qf2,Rg4,a5,Qxh2+,Kxh2', 'Rh4+,Kg1,Rh1#', 'https://lichess.org/training/1nCXC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1nfvt', 'Blitz', 'Boaposad', 1829, 'FrenchPlay', 1916, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nxe5,d4,Bb4,dxe5,Qe7,Qd4,c5,Qd5,Qh4,Bc4,f5,Qf7+,Kd8,Qf8+,Kc7,Qd6+,Kd8,Qf8+,Kc7,Qxg7,Qxe4+,Be3,Qxc4,Qxh8,Bxc3+,bxc3,Qxc3+,Ke2,Qxc2+,Bd2,Qc4+,Ke1,Kb8,e6,Qxe6+,Kd1,Nf6,Re1,Qd6,Kc1,Ne4,Be3,Qxh2,g3,d6,Bf4,b6,Qg7,Bb7,Rxe4,Bxe4', 'Bxd6+,Kc8,Qc7#', 'https://lichess.org/training/1nfvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1NGYg', 'Rapid', 'rolliservice', 1690, 'Karsten_1970', 1705, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,a6,Bd3,b6,c3,Nbd7,Nbd2,c5,dxc5,Bxc5,Qc2,O-O,Ne5,Ne4,Nxe4,dxe4,Bxe4,Rb8,Bxh7+,Kh8,Bd3,Nxe5,Bxe5,Rb7,O-O-O,Qd5,Bd4,Qxa2,Bxc5,bxc5,Kd2,Rd8,Ke2', 'Rxb2,Rd2,Rxc2', 'https://lichess.org/training/1NGYg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1NJWY', 'Rapid', 'Ksv2012', 1624, 'cactus273', 1745, 'd4,Nf6,Bf4,d5,Nc3,c6,h3,Bf5,Bxb8,Rxb8,e3,e6,Bd3,Bxd3,Qxd3,Bd6,Nge2,b5,O-O,O-O,a3,a5,Ng3,Qc7,Nce2,Rfe8,e4,dxe4,Nxe4,Be7,Nxf6+,Bxf6,c3,Rbd8,Qf3,e5,dxe5,Bxe5,Rfd1,g6,Nd4,Rd6,Rac1,Red8,Qe4,Bxd4,cxd4,Re6,Qf3,Rd5', 'Qxd5,cxd5,Rxc7', 'https://lichess.org/training/1NJWY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1nLJC', 'Classical', 'Yog121', 1721, 'kral05kral', 1698, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,d6,d5,Ne7,c4,Ng6,Nc3,h6,h3,Be7,b4,O-O,Bd3,Bd7,a4,c6,c5,dxc5,bxc5,Bxc5,Ba3,Bxa3,Rxa3,Qa5,Qb3,Rfe8,O-O,Nf4,Ne2,cxd5,Nxf4,exf4,e5,Ne4,Qxb7,Be6,Qb2,Rac8,Rc1,Rc7,Rxc7,Qxc7,Rc3,Qa5,Rc2,Qxa4', 'Bb5,Qa5,Bxe8', 'https://lichess.org/training/1nLJC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1nNYH', 'Rapid', 'bentuna', 2004, 'elephantologist', 1862, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,d3,b5,Bb3,O-O,c3,Bb7,Nbd2,d5,exd5,Nxd5,d4,exd4,Nxd4,Nxd4,cxd4,Nf4,Nf3,Nd5,Re1,Bd6,Ne5,Qh4,Qf3,c6,h3,Qxd4,Ng4,Rfe8,Rd1,Qe4,Bxd5', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/1nNYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1NOvZ', 'Classical', 'grassLfox', 1710, 'Y_MAKAR', 1792, 'd4,d5,Bf4,c6,e3,Bf5,Nd2,Nd7,Ngf3,e6,c4,Ngf6,c5,h6,b4,a6,a4,Be7,Ne5,Nxe5,Bxe5,O-O,h3,Nd7,g4,Bg6,Bg3,Nf6,h4,Ne4,Nxe4,Bxe4,f3,Bh7,Bd3,Bxd3,Qxd3,Qd7,h5,Qd8,Kd2,f5,g5,Bxg5,f4,Bf6,Rag1,Kh8,Qe2,Qe7,Qf2,Rae8,a5,Rf7,Rh2,Rg8,Rhg2,Kh7,Bh2,Kh8,Rg6,Qd8,R1g2,Qe7,Qg1,Kh7,Qf2,Bh4,Bg3,Bf6,Bh2,Bh4,Bg3,Bxg3,R2xg3,Kh8,Qg2,Qd7', 'Rxh6+,gxh6,Rxg8+,Kh7,Qg6#', 'https://lichess.org/training/1NOvZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1nPx1', 'Rapid', 'gargantum', 2259, 'MarioAA', 2213, 'e4,e6,c4,d5,Nc3,dxe4,Nxe4,b6,d4,Bb7,Ng3,Nf6,Nf3,Bb4+,Bd2,Bxf3,gxf3,Bxd2+,Qxd2,Qe7,O-O-O,Nc6,Ne4,O-O-O,Qc3,Kb7,Bg2,Nxe4,fxe4,Qg5+,Qe3,Qxg2,Rdg1,Qxh1,Rxh1,Rxd4,b3,Rhd8,Rg1,g6,Qf4,R8d7,Qh6,f5,exf5,exf5,Re1,Nb4,Re2,a5,Qe3,Nd3+,Kc2,Nb4+,Kb2,Nd3+,Ka3,Nb4,Qf3+,Nc6,Re6,R7d6,Rxd6,Rxd6,Ka4,Ka6,c5,bxc5,Qe2+,Kb7,Qb5+,Kc8,Qxc5,Kd7,Kb5,Ne7,Qe3,Nd5,Qh6,Nf6,Qg7+,Kc8,Kxa5,Kb7,b4,Ne4,f3,Ra6+,Kb5,Nd6+,Kc5,Rxa2,Qxh7,Rc2+,Kd5,Rd2+,Ke6,Rf2,Qxg6,Rxh2,Qg3,Re2+,Kd7,Rd2,Ke7,Re2+,Kf6,Rb2,Qf4,Rc2,Ke7,Rc4,Qe5,Rxb4,Qd5+,Kb6,Kd7,Rc4,Qa8,Nb7,Qb8', 'Rd4+,Ke7,Rd8,Qxd8,Nxd8', 'https://lichess.org/training/1nPx1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1NQIi', 'Blitz', 'markdegraaf2005', 1661, 'YoungE', 1676, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,e5,Nd7,d4,c5,c3,cxd4,cxd4,Bb4+,Nc3,O-O,Be2,Qh4,O-O,Rd8,f4,Nxe5,fxe5,Rxd4,Qe1,Qe7,a4,Qxe5,Bh5,Qxh5,Qe8+,Bf8,Be3,Rd3,Bc5,Qxc5+,Rf2,Rd2', 'Qxf7+,Kh8,Qxf8+,Qxf8,Rxf8#', 'https://lichess.org/training/1NQIi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1nQQ6', 'Rapid', 'Ebadi1-0', 1623, 'SavioCunha', 1662, 'd4,Nf6,e3,g6,c4,Bg7,Nc3,O-O,Nf3,Re8,Bd3,d6,e4,e5,d5,Bg4,O-O,c6,Be2,cxd5,cxd5,Nbd7,h3,Bxf3,Bxf3,Rc8,Nb5,Qa5,Nxd6,Nc5,Nxe8,Rxe8,Bd2,Qd8,Be3,b6,Rc1,Ncxe4,Bxe4,Nxe4,Rc4,Nd6,Rc6,e4,b3,Re7,Bg5,f6,Bf4,Rd7,Qc2,Qe7,Bxd6,Rxd6,Rc8+,Bf8,Re1,f5,Rc7,Qe5,Rxa7,Rxd5,f3,b5,fxe4,Qd4+,Qf2,Qxf2+,Kxf2,fxe4,Rxe4', 'Bc5+,Ke2,Bxa7', 'https://lichess.org/training/1nQQ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1nVgN', 'Blitz', 'lmdingi', 1766, 'Wilinski_28', 1853, 'e4,c5,Bc4,e6,Nc3,d6,a3,a6,d3,b5,Ba2,Bb7,f4,Nd7,Nf3,Be7,O-O,Ngf6,Qe1,O-O,Qg3,h6,Nh4,Nh7,Nf3,Kh8,f5,exf5,exf5,Ng5,Nxg5,Bxg5,Bxg5,Qxg5,Qxg5,hxg5,Ne4,Bxe4,dxe4,Ne5,Bd5,Rad8,Rad1,g6,fxg6,fxg6,Rxf8+,Rxf8,Bb7,Rd8,Bxa6,b4,axb4,cxb4,b3,Kg7,Bb7,Kf6,Bd5,Ke7,Ra1,Rd7,Ra4,Rc7,Rxb4,Rxc2,Rb7+,Kf6,b4,Rb2,b5,Rb1+,Kf2,Nd3+,Ke3,Nc5,Rf7+,Ke5,Bc6,Rb3+,Kf2,Nxe4+,Bxe4,Kxe4,Rf6,Rxb5,Rxd6,Kf5,h3,Rb2+,Kg1,Rb3,Rd5+,Kf6,Rd6+,Kf5,Kh2,Rc3,g4+,Kf4,Rxg6,Rc2+,Kh1', 'Kg3,Rf6,Rc1+,Rf1,Rxf1#', 'https://lichess.org/training/1nVgN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1NyaP', 'Classical', 'Cifaretto', 1706, 'Alex12121', 1762, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bb4+,c3,Ba5,Bd3,Nc6,Nbd2,h6,Ne5,Bd7,Qf3,Qe7,Qg3,O-O-O,Be2,g5,b4,Bb6,b5,Na5,Nxd7,Rxd7,Be5,Rg8,Bxf6,Qxf6,c4,dxc4,Nxc4,Nxc4,Bxc4,Ba5+,Ke2,e5,Qxe5,Qxe5,dxe5,Rd2+,Kf3,h5,Bd5,Rxd5,Rhd1,Rxe5,a4,Rc5,Rd4,f5,Rad1,g4+,Kg3,Bc3,Rd5,Be5+,Kh4,Rxd5,Rxd5,Bf6+,Kxh5,Rg5+,Kh4,Be7,Re5,Kd7', 'Rxe7+,Kxe7,Kxg5', 'https://lichess.org/training/1NyaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1NyR7', 'Blitz', 'Arpad895', 1560, 'Zac8888', 1815, 'e4,d6,d4,c6,c4,g6,Nc3,Bg7,Nf3,Nd7,Be2,Qc7,O-O,Ngf6,Bf4,e5,dxe5,dxe5,Bg5,O-O,Qc2,Nc5,b4,Ne6,Bh4,Bd7,Rad1,Rad8,c5,Bc8,Rd6,Rxd6,cxd6,Qxd6,Rd1,Qc7,b5,h6,bxc6,bxc6,Bd3,g5,Bg3,Nh5,Bc4,Nxg3,hxg3,Nd4,Nxd4,exd4,Ne2,Rd8,Rd3,c5,Qb3,Qd6,Bxf7+,Kh8,Bd5,Ba6,Rd2,Rb8,Qa4,Bf8,Nxd4,cxd4,Qxd4+,Bg7,Qxa7,Rd8,Rc2,Bb5,Rc7,Qe5,Re7,Qf6,Rf7,Qe5,Qb6,Rb8,Qg6,Be8', 'Rf8+,Bxf8,Qg8#', 'https://lichess.org/training/1NyR7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1nyxo', 'Rapid', 'lchong', 1881, 'newwwwww', 1902, 'c4,Nc6,Nc3,g6,g3,Bg7,d3,b6,Bg2,Bb7,Nf3,Rb8,O-O,Nf6,a3,a5,Rb1,O-O,Bd2,e5,Bg5,h6,Bd2,d6,Qc1,Kh7,h3,Nd4,Nxd4,Bxg2,Kxg2,exd4,Nd1,Qe7,e3,dxe3,Nxe3,Qd7,Bc3,Qc6+,Kg1,Qd7,Bxf6,Bxf6,Ng4,Bg5', 'Qxg5,hxg5,Nf6+,Kg7,Nxd7', 'https://lichess.org/training/1nyxo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1nzFG', 'Rapid', 'HiImSever', 1850, 'Erwan777', 1744, 'd4,d5,c4,Nf6,Nc3,e6,cxd5,exd5,Bg5,Be7,e3,h6,Bh4,O-O,Bd3,Be6,Nge2,Nbd7,Qc2,c5,f3,c4,Bf5,Nh5,Bxe7,Qxe7,Bxe6,fxe6,e4,Qg5,O-O,Rf7,exd5,exd5,Rae1,Raf8,Qa4,a6,Qa5,Ndf6,Kh1,Nf4,Nxf4,Qxf4,Nxd5,Nxd5,Qxd5,Kh7,Qxc4,Rf5,Re4,Qd2,Qb3,Rg5,Rg1,Rc8,Ree1,Rc2,Qxb7,Rxg2,Qe4+,Kh8,Qe8+,Kh7,Qh5', 'Rxh2+,Qxh2,Qxh2#', 'https://lichess.org/training/1nzFG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1O3uT', 'Rapid', 'pyrrhus777', 1745, 'Capajavi', 1797, 'e4,c6,d3,d5,Nd2,Nd7,Ngf3,e6,g3,Bd6,Bg2,Ne5,O-O,Nf6,d4,Nxf3+,Nxf3,dxe4,Ne5,Bxe5,dxe5,Qxd1,Rxd1,Nd7,Bg5,h6,Bf4,g5,Be3,Nxe5,Bxe4,f5,Bd4,fxe4,Bxe5,O-O,Re1,Bd7,Rxe4,Be8,h4,Bg6,Rd4,Bxc2,hxg5,hxg5,Rg4,Rf5,Bf4,Raf8,Bxg5,Kf7,Bh6,Rg8,Rd4,Rd5,Rf4+,Kg6,Bf8,Rf5,Bd6,Rd8,Rg4+,Kh5,Rh4+,Kg6,Rg4+,Rg5', 'Rxg5+,Kxg5,Be7+', 'https://lichess.org/training/1O3uT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1o4Hb', 'Classical', 'Risk_It_4Biscuit', 2071, 'huseyin0103', 2076, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,d3,Qxd5,a3,Be7,Nc3', 'exf3,Qxe7+,Kxe7,Nxd5+,Nxd5', 'https://lichess.org/training/1o4Hb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1o7fd', 'Classical', 'bilel1', 1702, 'verychoppy', 1641, 'e4,e5,d4,exd4,c3,d5,exd5,Qxd5,Nf3,Qe4+,Be2,d3,Qxd3,Qxd3,Bxd3,Nf6,Bf4,Bd6,Bxd6,cxd6,Na3,a6,Nc4,O-O,Nb6,Ra7,Nxc8,Rxc8,O-O-O,b5,Nd4,g6,f3,Re7,Rhe1,Rce8,Rxe7,Rxe7,Kd2,Nd5,Be4,Nf6,Bc2,d5,Re1,Rxe1,Kxe1,Nbd7,Kd2,Nc5,Nc6,Kg7,Nb8,a5,a3,Nfd7,b4,Nxb8,bxc5,Nc6,Bb3,Ne7,a4,b4,cxb4,axb4,Kd3,Kf6,Kd4,Ke6,a5,Kd7,Ke5,Nc6+,Kf6,Nxa5,Bxd5,b3,Kxf7,b2,Be4,Nc6,Kg7,Ne5,Kxh7,Ke6,f4,Nd7,c6', 'Nf6+,Kxg6,Nxe4', 'https://lichess.org/training/1o7fd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1O9AV', 'Rapid', 'Billasdf', 1615, 'Sophisticaited', 1620, 'd4,g6,c4,Bg7,Nf3,d5,e3,e6,Nc3,Ne7,cxd5,exd5,Bd3,c6,O-O,O-O,Qc2,f5,Ne2,Nd7,Rb1,Nf6,b3,b6,a4,Bb7,Bb2,Ne4,Nd2,Qd6,f3,Ng5,Rfd1,Ne6,Nf1,Bh6,f4,Bg7,Neg3,Nc8,Rbc1,Qd7,Ba3,Rf7,Nd2,Nd6,Nf3,Re8,Ne5,Bxe5,fxe5,Ne4,Bxe4,fxe4,Rf1,Nd8,Rf6,Kg7,Rcf1,c5,dxc5,Rxe5,cxb6,Rxf6,Rxf6,Kxf6,bxa7,Ba8,Bb2,Nc6,Qf2+,Ke6,Qf8,Qxa7,Qc8+,Kd6,Bxe5+,Nxe5,Qf8+,Kc6,Qc8+,Kd6,Qf8+,Kc6,Qc8+,Qc7,Qxa8+,Kd7,Qa6,Qc1+,Qf1,Qxe3+,Kh1,Ng4,Qe2,Nf2+,Kg1', 'Nh3+,Kf1,Qg1#', 'https://lichess.org/training/1O9AV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1oaaf', 'Rapid', 'marsupiales3v', 1767, 'Mar_77', 1772, 'e4,Nf6,Nc3,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg5,Nd7,Nd5,Be7,Nxf6,Nxf6,O-O-O+,Ke8,Bxf6,gxf6,Nf3,Be6,Kb1,Bc5,Rd2,Rg8,g3,Rd8,Bd3,Ke7,Rf1,Bb6,Nh4,c5,Nf5+', 'Bxf5,exf5,c4', 'https://lichess.org/training/1oaaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1OAdg', 'Rapid', 'saoo', 1664, 'Murphygagnon', 1692, 'e4,e6,d4,c5,Nf3,d5,c3,c4,Nbd2,Be7,Be2,Nc6,O-O,Nf6,exd5,exd5,Re1,O-O,Nf1,Qc7,Ne3,Bd7,Qc2,Rae8,Ng5,h6', 'Nxd5,Qxh2+,Kxh2', 'https://lichess.org/training/1OAdg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1oaQG', 'Rapid', 'Stanislav63', 1762, 'CrapCrusher', 1830, 'e4,c5,Qh5,e6,Nf3,Nf6,Qh4,Be7,d3,Nc6,a3,Nd4,Nxd4,cxd4,e5,Nd5,Qxd4,O-O,c4,Nc7,b4,f6,Bb2,fxe5,Qe3,Bg5,Qxe5,Bf6,Qe2,Bxb2,Qxb2,d5,Nd2,d4,Nf3,e5,Nxe5,Re8,f4,Qf6,g3,Bf5,Qxd4,Rad8,Qe3,Ne6,O-O-O,Nd4,Qe1,Nf3,Qc3,Nxe5,fxe5,Rxe5,Bg2,Qg5+,Rd2', 'Rxd3,Qxd3,Bxd3', 'https://lichess.org/training/1oaQG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Of4W', 'Blitz', 'zarquons', 1740, 'Berik125', 1745, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nxe4,Qd3,Nxc3,Qxc3,O-O,O-O-O,d6,Bc4,Bg4,f3,Bh5,g4,Bg6,h4,h6,h5,Bh7,Bd3,Rc8,Bxh7+,Kxh7,Qd3+,Kg8,Rhe1,Qc7,Qxd6,Qb6,Kb1,Qf2,Qd5,Nd4,Nxd4,exd4,Rc1,Rxc2,Rxc2,Qxe1+,Rc1,Qe3,Rd1,b6,Rxd4,Rc8,Rd1,Qe2,Rc1,Rxc1+,Kxc1,Qe1+,Kc2,Qe2+,Kc3,Qe3+,Qd3,Qc1+,Kb3,a5,Qd8+,Kh7,Qxb6,Qd1+,Kc3,Qxf3+,Kc2,a4,Qb4,Qe2+,Kc1,Qf1+,Kc2,Qg2+,Kd1,f6,Qxa4,Qf3+,Kc2,Qe2+,Kb3,Qd1+,Kb4,Qxg4+,Kb3,Qxh5,Qe4+,f5,Qe3,Qf7+,Kc3,Qxa2,Qf4,Qa5+,Kc2,Qc5+,Kb1,Qd5,Kc1,Qe4,Qd2,h5,Kd1,g6,Qd7+,Kh6,Qd2+,f4,Kc1,Qe3,b4,Qxd2+,Kxd2,h4,Ke2,Kg5,b5,h3,Kf2,h2,Kg2,Kf5', 'b6,f3+,Kxh2,Ke6,b7,f2,Kg2,f1=Q+,Kxf1', 'https://lichess.org/training/1Of4W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1oFpE', 'Rapid', 'rghosh', 1604, 'Bkenagh', 1687, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d6,a3,Be7,c3,O-O,O-O,Bg4,Nbd2,a6,b4,b5,Ba2,a5,Qc2,axb4,cxb4,Qd7,Bb2,d5,Nxe5,Nxe5,Bxe5,dxe4,dxe4,Rad8,Bc3,Be2,Rfe1,Bd3,Qb2,c5,Rad1,c4,Nxc4,bxc4,Bxc4,Bxc4,Rxd7,Rxd7,e5,Ne4,Rxe4,Rd1+,Be1,Rfd8,h3,Bd3,Re3,Bg6,Kh2,Bg5,Rg3,Bf4,Bc3,Bxg3+,Kxg3,R1d3+,Kh2,h6,e6,f6,Bxf6,gxf6,Qxf6,Kh7,f4,Re8,f5,Bh5,e7,Re3,g4,Bxg4,hxg4,R3xe7,Qg6+,Kh8,f6,Re2+,Kh3', 'R8e3+,Kh4,Rh2#', 'https://lichess.org/training/1oFpE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1OfZW', 'Rapid', 'gouloum', 1764, 'sileem128', 1782, 'e4,e6,d4,c5,c3,cxd4,cxd4,Nf6,Bg5,Be7,e5,Nd5,Bxe7,Qxe7,Nf3,Qb4+,Qd2,Nc6,a3,Qb6,Nc3,O-O,Nxd5,exd5,Be2,Na5,Rb1,Nc4,Qc3,d6,O-O,dxe5,Nxe5,Be6,Nxc4,dxc4,Bxc4,Rac8,b3,Rfd8,Rfd1,Qd6,a4,a6,Rbc1,b5,axb5,axb5,d5,Bxd5', 'Rxd5,Qxd5,Bxd5,Rxc3,Rxc3', 'https://lichess.org/training/1OfZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ohJe', 'Rapid', 'E4-System', 1922, 'Guilhermee_marquesss', 1845, 'e4,c6,c4,e5,Nf3,d6,d4,Bg4,Be2,Be7,Nc3,exd4,Nxd4,Bxe2,Qxe2,Bf6,Be3,c5,Ndb5,a6,e5,Bxe5,f4,Bxc3+,Nxc3,Ne7,O-O,O-O,Rad1,Qc7,Qg4,Nd7,Qf3,Rae8,Bf2,Nb6,b3,Ng6,Rd2,Re6,f5,Ne5,Qg3,Rf6,Be3,Qc8,Rdf2,Qd8,Bg5,Nbd7,Bxf6,Nxf6,Nd5,Ne4,Qe3,Nxf2,Rxf2,Ng4,Ne7+,Kh8,Qg5,Nxf2,f6,Nh3+,gxh3,g6', 'Qh6,Rg8,Nxg8', 'https://lichess.org/training/1ohJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1OIqB', 'Rapid', 'HappyMagicPony', 2004, 'Gui_czambon', 1901, 'e4,c5,d4,cxd4,c3,d5,Qxd4,dxe4,Qxe4,Nf6,Bb5+,Bd7,Qxb7,Bxb5,Qxa8', 'Bc6,Qxa7,Bxg2', 'https://lichess.org/training/1OIqB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1OizF', 'Rapid', 'Doppelkrone', 1883, 'PEODAGA_ATORA', 1766, 'e4,h5,Nc3,h4,d4,f6,Qg4,g5,Bxg5,d5,Qf3,fxg5,Nxd5,Nf6,Bc4,Bg7,e5,Nxd5,Bxd5,Rf8,Qh5+,Kd7,Qxg5,c6,e6+,Kd6,Qxh4,cxd5,Qg3+,Kxe6,Qxg7,Nc6,Nf3,Rg8,Qh6+,Kd7,O-O-O,Rxg2', 'Qh3+,Kc7,Qxg2', 'https://lichess.org/training/1OizF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ojl6', 'Blitz', 'gustigusti', 2520, 'FM Doubleb17', 2457, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f3,Qc7,Qd2,Nc6,O-O-O,Be7,Kb1,h6,Be3,b5,g4,Ne5,a3,Bb7,Rg1,Nfd7,h4,Nc5,g5,hxg5,hxg5,g6,f4,Nc4,Bxc4,bxc4,f5,e5,fxg6,fxg6,Nde2,Nxe4,Nxe4,Bxe4,Nc3,Bb7,Nd5,Bxd5,Qxd5,Rb8,Qe6,c3,Qxg6+,Kd8,b4,a5,Rh1,Re8,b5,Rxb5+,Ka1,Rf8,Rb1,Qb7,Qd3,Rxb1+,Rxb1,Qc8,Bb6+,Ke8,Qg6+,Rf7,Rf1,Qc4,Rxf7,Qxf7,Qxf7+,Kxf7,Bxa5,Bxg5,Bxc3,Ke6,a4,d5,a5,d4', 'a6,dxc3,a7', 'https://lichess.org/training/1ojl6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1okAP', 'Rapid', 'Chepchik2', 2384, 'FM kofte', 2352, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be2,Bb4,Bf3,Ne5,O-O,Bxc3,bxc3,a6,Bf4,Qc7,Bg3,d6,Bh4,Qxc3,Bxf6,gxf6,Bh5,Ke7,f4,Nc6,Nxc6+,Qxc6,e5,dxe5,fxe5,Qc5+,Kh1,Qxe5,Qf3,Bd7,Rae1,Qg5,Qa3+,Ke8,Bf3,Bb5,Bxb7,Rd8,Rf3,Rd2,Rg3,Qe5,Rg1,Qd6,Qc3,Ke7,Be4,Rd1,h3,h5,Rf3,Rxg1+,Kxg1,Qd1+,Kh2,Qd6+,Kh1,Qe5,Qb4+,Ke8,Rc3,Bd7,Rc5,Qg3,Bc6,Qd6,Bxd7+,Qxd7,h4,f5', 'Qb8+,Qd8,Rc8', 'https://lichess.org/training/1okAP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1oKNT', 'Rapid', 'msck', 1905, 'nlp2013', 1887, 'Nf3,d5,c4,d4,e3,Nc6,exd4,Nxd4,d3,Bg4,Be2,Nxe2,Qxe2,Qd7,Nc3,f6,O-O,O-O-O,Nd5,e6,Ne3,Bxf3,Qxf3,Qxd3', 'Rd1,Qxd1+,Nxd1', 'https://lichess.org/training/1oKNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1oL6Y', 'Blitz', 'rzzky', 1808, 'mozaffer', 1832, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,e3,Be7,Bd3,O-O,Nge2,h6,Bh4,Nbd7,f3,b6,O-O,Bb7,Qc2,Rc8,e4,dxc4,Bxc4,c5,Rad1,cxd4,Rxd4,Bc5,e5,g5,exf6,gxh4,Ne4,Bxd4+,Nxd4,Bxe4,Qxe4,Rxc4', 'Qg4+,Kh7,Qg7#', 'https://lichess.org/training/1oL6Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1omiL', 'Rapid', 'jalbyrak', 1663, 'code89', 1674, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,Nxe4,d5,Nb4,a3,Na6,Bxa6,bxa6,Nxe5,d6,Nc6,Qf6,O-O,Qg6,f3,Bh3,Qe2,Be7,fxe4,Bh4,Kh1,Bg4,Qxa6,Qxe4,Qb7,O-O,Qxc7,Bh3,Ne7+,Kh8,Rg1,Bxg2+,Rxg2,Bxe7,Nd2,Qxd5,Qxe7,Rae8,Qh4,Re2,Qg4', 'Re1+,Nf1,Rxf1#', 'https://lichess.org/training/1omiL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1omKq', 'Rapid', 'kdn0101', 2058, 'Dina2011', 1646, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Nxc3,bxc3,Bxc3,Qb3,Bxa1,Bxf7+,Kf8,Bg5,Ne7,Ne5,d5,Qf3,Bf5,Be6,Bxd4,Bxe7+,Qxe7', 'Qxf5+,Qf6,Nd7+,Ke7,Nxf6', 'https://lichess.org/training/1omKq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ONY6', 'Rapid', 'etna942', 2020, 'king_ege', 2052, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,Nbd7,Bd3,O-O,Nge2,e5,d5,a5,b3,Nc5,Bc2,Ne8,O-O,f5,f3,f4,Bd2,Qg5,Kh2,Bf6,Rg1,Qh5,Qf1,Bh4,g3,fxg3+,Nxg3,Qxf3,Qxf3,Rxf3,Nce2,Nf6,Raf1,Bxg3+,Nxg3,Rxf1,Rxf1,Kg7,Bg5,Ne8,Be7,Na6,a3,Nc5,Bf8+,Kg8,Bh6,Nd7,Bd1,Ndf6,Bg5,Kg7,Be2,a4,b4,h6,Be3,b6,c5,bxc5,bxc5,dxc5,Bxc5,Nd6,Bd3,Rb8,Bb4,Bd7,Rc1,Bb5,Bxd6,cxd6,Rb1,Bxd3,Rxb8,Nxe4,Nxe4,Bxe4,Rb4,Bxd5,Rxa4,Kf7,Ra7+,Kf6,Kg3,h5,h4,Kf5,Ra6,Ke6,a4,Bc4,Ra7,d5,Kf3,d4,a5,Kd6,Rg7,Bd3,a6,e4+,Kf2,e3+,Ke1,Bc4,a7,d3,a8=Q', 'd2+,Kd1,Bb3+,Ke2,d1=Q+', 'https://lichess.org/training/1ONY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1OoTU', 'Classical', 'jmotalik', 1844, 'Sultankhan1010', 1822, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,O-O,Bc5,d3,h6,c3,a5,cxd4,Bxd4,Nc3,Bxc3,bxc3,c6,Bb2,d5,exd5,cxd5,Bb5+,Bd7,Qa4,Bxb5,Qxb5+,Qd7,Qxd7+,Kxd7,d4,b5,Rae1,Nf6,Re5,Rhe8,Rfe1,Rxe5,Rxe5,Re8,Rxe8,Nxe8,f3,Nd6,Kf2,Nc4,Bc1,Ke6,Kg3,Kf5,h4,g5,hxg5,hxg5,Kf2,f6,g4+,Kg6,Ke2,f5,Kd3,a4,Kc2,f4,Kd3,Kf6,Ke2,Ke6,Kd3,Kd6,Kc2,Kc6,Kd3,Kb6,Kc2,Ka5,Kd3,b4,Kc2,bxc3,Kxc3,Ne3,a3,Kb5', 'Bxe3,fxe3,Kd3,e2,Kxe2', 'https://lichess.org/training/1OoTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1oq7y', 'Rapid', 'Misak-Hay', 1804, 'mowait', 1658, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,h3,e6,d3,Be7,Nf3,O-O,Bg5,a6,a3,Nbd7,Nbd2,Qc7,O-O,h6,Bh4,Re8,d4,Nf8,Ne5,Ng6,Nxg6,fxg6,Bg3,Bd6,c3,Nh5,Bc2,Nxg3,fxg3,Bxg3,Bxg6,Re7,Nf3,e5,Nxe5,Bxe5,dxe5,Qxe5,Re1,Qg5,Rxe7,Qxe7,Qxd5+,Be6,Qe4,Rf8,Re1,Rf6,Bh5', 'Qc5+,Qd4,Qxh5,Qxf6,gxf6', 'https://lichess.org/training/1oq7y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1OqxC', 'Blitz', 'pepijnnl', 1607, 'ChessMikey', 1589, 'd4,e6,c4,d5,Nc3,dxc4,e3,Nc6,Bxc4,Bb4,Bd2,Bxc3,Bxc3,a6,d5,exd5,Qxd5,Qxd5,Bxd5,Nce7,Bf3,c6,O-O-O,Nf6,Bxf6,gxf6,Ne2,Nd5,Bxd5,cxd5,Rxd5,O-O,h4,Kg7,h5,h6,g4,Bxg4,Nf4,Be6,Rd6,Bxa2,Rb6,Rfd8,Rxb7', 'Rac8+,Rc7,Rxc7#', 'https://lichess.org/training/1OqxC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1OQyx', 'Rapid', 'Ruleirox', 1991, 'Not_a_bonobo', 1934, 'e4,c5,Nc3,Nc6,f4,e5,Nf3,exf4,Bc4,Nd4,O-O,g5,Ne5,Nh6,Qh5,Qf6,Nf3,d6,Nd5,Qg6,Qxg5', 'Nxf3+,Rxf3,Qxg5', 'https://lichess.org/training/1OQyx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Orl9', 'Classical', 'Balaor', 2031, 'gummibaer', 2023, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,O-O,O-O,d6,Nxc6,Nxc6,Bxc5,dxc5,Nd2,b6,f3,Be6,Bd5,Bxd5,exd5,Ne5,Ne4,Qg6,Re1,Rfe8,c4,Nxc4,Qa4,Ne5,Re3,Nxf3+,Kh1,Ne5,Rf1,f5,Rg3,Qf7,Ng5,Qe7,Ne6,Ng6,Rxf5,Nf8,Rfg5,Nxe6,dxe6,g6,Re5,Qf6,Re1,Rxe6,Rd1,Rae8,Qc4,Kg7,h3,Qxb2,Rd7+,R8e7', 'Qxe6,Rxd7,Qxd7+', 'https://lichess.org/training/1Orl9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1OsOa', 'Rapid', 'yososlav', 2042, 'tal7', 1964, 'Nf3,d5,g3,Nc6,Bg2,Nf6,O-O,e5,d3,h6,c4,dxc4,dxc4,Qxd1,Rxd1,Be6,b3,Bc5,Bb2,Bd6,Nc3,a6,e4,O-O-O,Re1,Bb4,Rad1,Rxd1,Rxd1,Bxc3,Bxc3,Nxe4,Bxe5,f6,Nd4,fxe5,Nxc6,Nc3,Rd3,Nxa2,Nxe5,Nb4,Rd1,Rd8', 'Bxb7+,Kxb7,Rxd8', 'https://lichess.org/training/1OsOa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1otg9', 'Blitz', 'FM ChainsOfFantasia', 2605, 'QingsGambit', 2571, 'e4,e6,Nf3,d5,Nc3,d4,Ne2,c5,c3,Nf6,e5,Nfd7,cxd4,cxd4,Nexd4,Nxe5,Bb5+,Nbc6,O-O,Bd7,Nxc6,Nxc6,d4,Be7,d5,exd5,Qxd5,O-O,Rd1,Be6,Qxd8,Raxd8,Be3,a6,Bxc6,bxc6,b3,Bf6,Rac1,Bd5,Kf1,Bb2,Rb1,Be4,Rxd8,Bxb1,Rd6,Bxa2,Rd2,Bxb3,Rxb2,Bc4+,Ke1,Bb5,Nd4,Rc8,Rc2,Ba4,Rc4,Bb5,Rc3,Ba4,h4,c5,Nf5,Rd8,Rxc5,g6,Ne7+,Kf8,Nd5,Bb3,Bh6+,Ke8,Nc7+,Kd7,Nxa6,Kd6,Rc3,Bd5,Nb4,Bxg2,Rd3+,Kc7,Bf4+,Kc8,Rxd8+,Kxd8,Ke2,Kd7,Nd3,Ke6,f3,Bh3,Nf2,Bf5,Ne4,h5,Ng5+,Ke7,Bc1,Bc2,Kd2,Bb1,Ke3,f6,Nh3,Ke6,Nf4+,Kf7,Bb2,Bf5,Ng2,Be6,Kf4,Ba2,Ne3,Bb1,Bc3,Bd3,Be1,Bb1,Nd5,Ba2,Bc3,Bxd5,Ke3,Ke6,f4,Bb7,Bd4,Kf5,Bc3,Bd5,Bb2,Be6,Ba1,Bd7,Bb2,Bc6,Bc3,Kg4,Bb4,Kxh4,Be7,Kg4,Bxf6,h4,Be5,h3,f5,Bd7,fxg6,Be6,Bh2,Bg8,Bg1', 'Kg3,Ke4,Kg2,Bb6,h2', 'https://lichess.org/training/1otg9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1OTWp', 'Rapid', 'ali_1340', 1742, 'salvamarEd', 1718, 'e4,d5,exd5,Qxd5,Nc3,Qd7,Nf3,Nc6,Be2,Nf6,d3,e5,O-O,Bb4,a3,Bxc3,bxc3,O-O,Be3,Re8,Re1,Qd8,Qc1,Bg4,h3,Bxf3,Bxf3,e4,dxe4,Nxe4,Qb2,b6,Rad1,Qh4,Qb5,Ne5,Be2,Nxc3,Qb3,Nxd1,Rxd1,Rad8,Rf1,c5,Qb5,Ng6,a4,Nf4,Bf3,Rf8,Qc4,g5,Qa6,Nxh3+,gxh3,Qxh3,Bg2,Qg4,Qxa7,h5,Qxb6,Kh7,Qxc5,h4,f3,Qh5,Qf5+,Kg8,Bxg5,f6,Qe6+,Qf7,Qxf6', 'Qa7+,Kh1,Rxf6', 'https://lichess.org/training/1OTWp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Otx3', 'Rapid', 'ChesapeakReaper', 1744, 'mamdoohdoulaimi', 1723, 'c4,e5,Nc3,f5,e3,Nf6,d4,exd4,exd4,d6,Nf3,c6,Be2,Be7,O-O,O-O,Bd3,Na6,a3,Be6,Re1,Bd7,Nh4,Ne4,Nxe4', 'fxe4,Bxe4,Bxh4', 'https://lichess.org/training/1Otx3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1OYIU', 'Blitz', 'IM Odirovski', 2609, 'Adeyinka123', 2281, 'Nf3,e6,d4,d5,Bf4,Nf6,e3,a6,Nbd2,c5,c3,Nc6,Bd3,Bd6,Ne5,Bxe5,dxe5,Nd7,Qg4,g6,Nf3,h5,Qg3,Qb6,O-O-O,Ne7,Qg5,a5,e4,a4,a3,d4,Nd2,dxc3,bxc3,Qa5,Kc2,b5,Rb1,Ba6,Bg3,Rc8,Bh4,Ng8,Rhd1,b4,Nc4,b3+,Kb2,Bxc4,Bxc4,Qc7,Rd6,Qd8,Qxd8+,Rxd8,Bxd8,Kxd8,Rbd1,Nf6,Rxd7+,Nxd7,Bb5,Ke7,Rxd7+,Kf8,Rd8+,Kg7,Rxh8,Kxh8,Bxa4,Kg7,Bxb3,f5,Bxe6,fxe4,Bd5,Kf8,a4,e3,a5', 'e2,a6,e1=Q', 'https://lichess.org/training/1OYIU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1OYyQ', 'Blitz', 'Stoindlscheyba', 1722, 'prometus_u', 1685, 'Nf3,e5,e4,Bc5,a3,d5,b4,Bb6,d3,c6,Bb2,Nf6,Bxe5,Bxf2+,Kxf2,Ng4+,Kg1,Nxe5,Nxe5,dxe4,Nc3,exd3,Qxd3', 'Qb6+,Qe3,Qxe3#', 'https://lichess.org/training/1OYyQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1P8Vy', 'Rapid', 'Serg19811036', 2126, 'SholpanGaitova', 2127, 'e4,a6,d4,b5,Bd3,Bb7,f4,Nf6,Qe2,e6,Nf3,c5,c3,Be7,O-O,Qb6,e5,Nd5,Kh1,cxd4,cxd4,Nc6,Nc3,Ncb4,Bb1,Rc8,Bd2,Nxc3,bxc3,Nd5,Qe1,h6,f5,b4,cxb4,Nxb4,fxe6,dxe6,Qg3,g5,Bxb4,Qxb4,Bd3,Qa3,Rfd1,Bd5,Nd2,h5,Nb3,g4,Nc5,Rg8', 'Bb5+,axb5,Qxa3', 'https://lichess.org/training/1P8Vy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1p9Zm', 'Bullet', 'bitc9', 1915, 'Klemuc', 1949, 'd4,Nf6,c3,e6,e3,Be7,f4,O-O,Nf3,d6,Bd3,Nbd7,Nbd2,b6,e4,Bb7,e5,Nd5,Ne4,f6,O-O,h6,Qe1,fxe5,fxe5,Nf4,Bxf4,Rxf4,exd6,cxd6,Ng3,Nf8,Qe3,Rf7,Rae1,Bh4,Bc4,Bxf3,Rxf3,Rxf3,Qxf3,d5,Bd3,Qg5,Rf1,Bxg3', 'Qf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/1p9Zm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1pa20', 'Rapid', 'MohamedAamer', 1670, 'popoff81', 1823, 'e4,c5,Nf3,Nc6,c3,d6,Qb3,b6,d4,Na5,Qd1,c4,Na3,Nf6,e5,dxe5,Nxe5,Be6,Naxc4,Bxc4,Qa4+,b5,Qd1,Bxf1,Rxf1,Qd5,Qd3,Qe4+,Qxe4,Nxe4,Bf4,g6,f3,Nf6,b4,Nc4,Nxc4,bxc4,Kd2,h5,Rae1,Rd8,Bg5,Kd7,Re5,Bh6,Bxh6,Rxh6,Rc5,Rc8,Ra5,Rc7,Re1,e6,Ree5,Nd5,a4,f6,Re1,g5,Ra6,f5,Re5,g4', 'Rxd5+,exd5,Rxh6', 'https://lichess.org/training/1pa20');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1pA7S', 'Blitz', 'Ariakas', 2194, 'FM Mvlitovicius', 2228, 'd4,d5,Bg5,c5,e3,Nc6,c3,cxd4,exd4,Qb6,Qb3,f6,Be3,Qxb3,axb3,b6,g3,e6,Bg2,Bd6,c4,Nb4,Kd2,Ne7,Ra4,Bd7,c5,bxc5,dxc5,Bxa4,cxd6,Nec6,bxa4,Kd7,Bc5,Rhb8,Nc3,a6,Nge2,Na7,Bxa7,Rxa7,Rc1,Nc6,Rc2,Rab7,Kc1,Ne5,Nd4,Nd3+,Kd2,Nxb2,Bf1,Nc4+,Bxc4,dxc4,Ne4,e5,Nc5+,Kxd6,Nxb7+,Rxb7,Ne2,Kc5,Nc3,Rd7+,Ke2,f5,Rd2,Rd4,Rb2,Rd3,Rc2,Kb4,Na2+', 'Kb3,Rd2,Rxd2+,Kxd2,Kxa2', 'https://lichess.org/training/1pA7S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1PBly', 'Classical', 'donthuvenkateswarlu', 1727, 'ev00', 1705, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,a6,Bc4,Nc6,O-O,b5,Bd5,Nxd5,Nxd5,Be6,Be3,Bxd5,Qxd5,Nb4,Qd2,d5,c3,d4,cxd4,Qh4,Nc5,Nc6,Bg5,Qh5,d5,Nd4,b4,Qg4,f3,Qc8,Rac1,Bxc5,Rxc5,Qb8,Rfc1,O-O,Rc7,Qb6,Kh1,h6,Be7,Rfe8,d6,f6,d7,Rxe7,Rc8+,Qd8,Rxd8+,Rxd8,Rc8,Rxd7,Rxd8+,Rxd8,f4,Kf7,fxe5,fxe5,g4,Rd6,g5,h5,Qc3,Ne2,Qc7+,Ke6,Qc8+,Ke7,Qc7+,Ke6,Qxg7,Nf4,Qf6+,Kd7,Qf7+,Kc6,Qb3,Rd3,Qc2+,Kb6,g6,Rd7,h4,Nxg6,Qf2+,Kc6,Kg2,Nf4+,Kh2,Nd3,Qc2+,Kb7,Kg3,Rg7+,Kh3,Ne1,Qc3,Rg1,Qxe5,Rh1+,Kg3,Rg1+,Kf2', 'Nd3+,Kxg1,Nxe5', 'https://lichess.org/training/1PBly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Pc3X', 'Blitz', 'Baneban', 1938, 'JimmyTheGiant', 2023, 'e4,d5,e5,d4,f4,Nc6,Nf3,h5,Bb5,h4,h3,Qd5,Bxc6+,Qxc6,d3,Bf5,O-O,O-O-O,Nbd2,f6,Nc4,g5,fxg5,Bxh3,gxh3,fxg5,Bxg5,Bh6,Bxh6,Nxh6,b3,Nf5,Kh2,Rhg8,Rg1,Rg3,Qe2,Rxf3,Rgf1,Rxf1,Qxf1,Ng3,Qg2,Qg6,Rg1,Rg8,Qd5,Nf1+,Rxf1', 'Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/1Pc3X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1PC8N', 'Blitz', 'bear-spb84', 1604, 'Jalaja99999', 1618, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,Re1,Bb4,Bd2,O-O,a3,Ba5,b4,Bb6,Bg5,Qe7,Na4,Bd8,Nc5,Qc7,g3,Nd7,Bf4,e5,Nxd7,Qxd7,Rxe5,Bf6,Rxd5,Qc6,Rb1,Rfd8,Rxd8+,Rxd8,Qe2,Rc8,Re1,Bb2,Bc7,Bxa3,c3,Kf8,Ba5,Qxc3', 'Qe7+,Kg8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/1PC8N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Pfcb', 'Rapid', 'ChessKingOwen', 2094, 'staraciotti', 2098, 'd4,g6,Bf4,Bg7,e3,Nc6,Nf3,e6,c4,d5,Nc3,Nge7,Be2,a6,O-O,O-O,Qc2,e5,dxe5,Bf5,Bd3', 'Nb4,Bxf5,Nxc2', 'https://lichess.org/training/1Pfcb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1PlwC', 'Rapid', 'Blackman918', 1843, 'FlyTyFly', 1848, 'e4,e6,Nf3,d5,e5,c5,d4,Qb6,c3,Nc6,a3,c4,Be2,Na5,Nbd2,Ne7,O-O,Bd7,Rb1,Qc7,b4,cxb3,Nxb3,Nec6,Bb5,Nxe5,Bxd7+,Nxd7,Nxa5,Qxa5,Rxb7,Bxa3,Qb3,Bxc1,Rxc1,Nb6,Qb2,O-O', 'Ra1,Nc4,Rxa5', 'https://lichess.org/training/1PlwC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1PLwF', 'Classical', 'sd337', 1936, 'koraj', 1943, 'e4,c5,c3,d5,e5,d4,Nf3,f6,cxd4,cxd4,Qa4+,Nc6,Bb5,Bd7,Bxc6,Bxc6,Qxd4,Qxd4,Nxd4,Bxg2,Rg1,fxe5,Ne6,Kd7', 'Nxf8+,Rxf8,Rxg2', 'https://lichess.org/training/1PLwF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1pndy', 'Rapid', 'd3d1', 1774, 'BadgerDoctor', 1707, 'd4,Nf6,c4,c5,d5,b5,Nc3,b4,Nb1,e6,b3,Nxd5,cxd5,Qf6,dxe6,fxe6,e3,Qxa1,Nd2,Qc3,Nf3,Be7,Be2,Bb7,O-O,O-O,Nc4,d5', 'Bb2,dxc4,Bxc3', 'https://lichess.org/training/1pndy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1PP12', 'Rapid', 'wheresmybelt', 1783, 'dedalu', 1624, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,Nc3,Na5,fxe5,dxe5,Nxe5,Nxc4,Nxc4,Ng4,d4,Bg5,Qf3,Bxc1,Raxc1,Qg5,Nd5,c6,Nde3,Nxe3,Nxe3,Be6,c4,Rad8,d5,cxd5,cxd5,Bc8,Rc2,b6,Rfc1,Ba6,Rc7,Rc8,Nf5', 'Qxc1+,Rxc1,Rxc1+,Kf2,Rf1+,Ke3,Rxf3+', 'https://lichess.org/training/1PP12');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1pRyS', 'Rapid', 'dtfmano18', 1788, 'gholam40', 1865, 'e4,c5,Nf3,Nc6,d4,e6,Nc3,a6,Be2,h6,O-O,Be7,Be3,cxd4,Nxd4,Nf6,Kh1,O-O,f4,d5,e5,Nh7,Bd3,f5,exf6,Nxf6,f5,e5,Ne6,Bxe6,fxe6,d4,Bxh6,dxc3,Rxf6,Bxf6,Qh5,gxh6', 'Qg6+,Bg7,Qh7#', 'https://lichess.org/training/1pRyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Pt4o', 'Blitz', 'Nefariousmonk', 1557, 'skr0388', 1607, 'e4,e5,Nf3,Nc6,Be2,d6,d3,Nf6,c4,Bg4,O-O,Bxf3,Bxf3,Nd4,Nc3,g6,Be3,Nxf3+,Qxf3,Bg7,b4,O-O,a4,c6,Rac1,Qd7,b5,h5,h3,Nh7,Nd5,cxd5,cxd5,f5,Qe2,f4,Bd2,Bh6,f3,Ng5,Kh2,Rac8,Bb4,b6,Qd2,Kg7,d4,Kf6,dxe5+,dxe5,Bxf8,Rxf8,Rc6+,Kg7,Rfc1', 'Qxh3+,gxh3,Nxf3+,Kh1,Nxd2', 'https://lichess.org/training/1Pt4o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1PUNX', 'Blitz', 'JosePabon', 1577, 'PawnGangster', 1557, 'e4,c5,c3,Nc6,Nf3,e5,d4,f5,exf5,e4,Ne5,cxd4,Qh5+,Ke7,Nxc6+,bxc6,cxd4,d5,Bg5+,Nf6,Be2,Bxf5,Nd2,g6,Qh4,Bg7,Nf1,Qa5+,Kd1,Qa4+,Kc1,Qxd4,Ne3,Rab8,Rb1,Kf7,Nxf5,gxf5,Bxf6,Bxf6,Bh5+,Ke7,Qf4,Rxb2', 'Qc7+,Kf8,Qf7#', 'https://lichess.org/training/1PUNX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1pxcq', 'Rapid', 'veNNN', 1790, 'FedorSassa', 1730, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Nc6,Nf3,Bg4,h3,Bxf3,Qxf3,e6,O-O,Be7,Bf4,O-O,Nd2,a6,Rfe1,b5,a3,h6,Be5,Nxe5,dxe5,Nd7,Rad1,Nc5,Bc2,Qc7,Nb3,Nd7,Qd3,g6,Qg3,Kh7,Nd4,f5,Nxe6,Qb7,Nxf8+,Nxf8,f4,Ne6,Re2,Bc5+,Kh1,d4,Bb3,Ng7,cxd4,Nh5,Qf2,Ba7,e6,Re8,Rde1,Nf6,Qe3,Ne4,Bc2,Rxe6,Bxe4,fxe4,Qb3,Re8,d5,e3,d6,Qd7,Rd1,Re6,Qd5,Bb8,Kg1', 'Rxd6,Qxd6,Bxd6', 'https://lichess.org/training/1pxcq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1q4El', 'Rapid', 'SilverMedal', 1732, 'joao2399', 1761, 'e4,d6,d4,g6,f4,Bg7,Nf3,Nf6,Nc3,O-O,Be2,Nbd7,O-O,c5,d5,Nb6,Be3,e6,dxe6,Bxe6,f5,Bc4,h3,Bxe2,Qxe2,Re8,fxg6,fxg6,Qd3,Nxe4,Nxe4,Bxb2,Rab1,c4,Qxd6,Qxd6,Nxd6,Rxe3,Rxb2,Re2,Nxb7,Nd5,Nc5,Ne3,Rf2', 'Rxf2,Kxf2,Nd1+,Ke2,Nxb2', 'https://lichess.org/training/1q4El');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1q85Y', 'Rapid', 'farzadfarnaz', 1850, 'Night_Sniper', 1859, 'd4,Nf6,Bg5,Ne4,Bh4,g5,Bg3,Nxg3,fxg3,d5,e3,e6,Bd3,c5,c3,cxd4,exd4,Nc6,Nf3,Bd6,O-O,Qb6,Qc2,h6,Nbd2,Ne5,Nxe5,Bxe5,Kh1,Bd6,Rae1,Bd7,Nf3,O-O-O,Ne5,Bxe5,Rxe5,Rdf8,a4,f5,Ra1,h5,a5,Qd6,b4,g4,b5,h4,gxh4,Rxh4,b6,a6,c4,dxc4,Bxc4,Kd8,g3,Rh7,Rae1,Qxd4,Bxe6', 'Bc6+,Bd5,Bxd5+,Rxd5+,Qxd5+', 'https://lichess.org/training/1q85Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Qaxd', 'Classical', 'RAM_777', 1856, 'RabbiGambit', 1901, 'Nf3,Nc6,d4,d5,e3,Nf6,Be2,g6,b3,Bg7,Bb2,O-O,Nbd2,a5,a3,a4,b4,b6,Rc1,Ne4,c4,e6,Ba1,Nxd2,Qxd2,dxc4,Bxc4,Ne7,Qc2,Bb7,Be2,c6,O-O,Nf5,Ne5,Bxe5,dxe5,Qg5,Kh1,c5,e4,Nd4,Bxd4,cxd4,f4,Qe7,Qd3,Rfd8,h3,Qd7,Kh2,Rac8,Rxc8,Rxc8,Rd1,Rc3', 'Qxc3,dxc3,Rxd7', 'https://lichess.org/training/1Qaxd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Qezc', 'Blitz', 'NM ShahxaibKhan', 2334, 'accuizon', 2366, 'e4,c5,Nc3,g6,f4,Bg7,Nf3,e6,e5,d5,exd6,Qxd6,Bb5+,Bd7,Bxd7+,Nxd7,d3,Ne7,O-O,O-O,Ne4,Qc7,Kh1,h6,Qe1,Rfd8,Rb1,b5,b3,Rac8,Bd2,Nd5,Qh4,c4,dxc4,bxc4,Ng3,N7f6,f5,exf5,Bxh6,Ng4,Bxg7,Kxg7,h3,Rh8,Qg5,Nh6,Nh5+,Kf8,Nf6,Qe7', 'Nxd5,Qxg5,Nxg5', 'https://lichess.org/training/1Qezc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1QJQt', 'Rapid', 'Carlosmm1509', 1852, 'alejandro1907', 1718, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Qd3,Nf6,f3,Qd5,g4,Bxe4,fxe4,Qxe4+,Qxe4,Nxe4,Ne2,Nd7,Be3,e5,dxe5,Nxe5,Bg2,Nf6,g5,Nd5,Kd2,Rd8,Bxd5,Rxd5+,Kc3,a5,Rad1,Bb4+,Kb3,O-O,Rxd5,cxd5,c3,Bd6,Rd1,Nc6,Rxd5,Bxh2,Nd4,Rd8', 'Nxc6,Rxd5,Ne7+,Kf8,Nxd5', 'https://lichess.org/training/1QJQt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1qM33', 'Rapid', 'Orthgiess', 1685, 'bensheares', 1737, 'e4,e5,Nf3,Nc6,d4,exd4,Bg5,Nf6,Nxd4,h6,Nxc6,dxc6,Bh4,Qxd1+,Kxd1,Nxe4,Nd2,Bg4+,f3,Nxd2,Kxd2,Bh5,Re1+,Kd7,Bd3,Bb4+,c3,Ba5,Bf5+,Kd6,Bg3+,Kc5,Re5+,Kb6,Bf2+,Ka6,Bd3+,b5,Rxh5,Rad8,b4,Bb6,a4,Bxf2,axb5+,cxb5,Rxb5', 'Rxd3+,Kxd3,Kxb5', 'https://lichess.org/training/1qM33');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1QMsL', 'Rapid', 'ayrymt', 1687, 'quijotededune', 2028, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,dxc4,Bf4,b5,a4,Nd5,Nxd5,Qxd5,axb5,cxb5,e3,Bg4,Be2,e6,O-O,Bd6,Bxd6,Qxd6,b3,Nc6,bxc4,bxc4,Bxc4,O-O,Ra6,Qc7,Be2,Nb4,Ra4,a5,Ne5,Bxe2,Qxe2,f6,Nd3,Qc4,Rd1,Qb5,Raa1,Rfc8,Qd2,Nxd3,Qxd3,Qxd3,Rxd3,a4,Rda3,e5,dxe5,fxe5,g3,Rc4,Kg2,e4,R3a2,Kf7,f4,exf3+,Kxf3,Ke6,Ra3,Ke5,Rb1,Rf8+,Ke2,Ke4,Rb7,Rc2+,Ke1,Rxh2,Rb5,Ra8,Rb7,Rc8,Rxa4+,Kxe3', 'Rb3+,Rc3,Rxc3#', 'https://lichess.org/training/1QMsL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1QngT', 'Rapid', 'COUNTDRANKA', 1772, 'fabdabs1234', 1783, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,h3,Be6,Bb3,Nge7,O-O,Qd7,d4,exd4,cxd4,Bxb3,Qxb3,Bb6,Be3,O-O-O,a4,a5,Nc3,f5,e5,dxe5,Nxe5,Nxe5,dxe5,Bxe3,fxe3,Nc6,Rad1,Qe7,Nd5,Qxe5,Rfe1,g5,Qc3,Rxd5', 'Rxd5,Qxc3,bxc3', 'https://lichess.org/training/1QngT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1qnNG', 'Rapid', 'Balduino2', 1603, 'Sujeeth', 1846, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Be7,d4,exd4,Nxd4,Bd7,Bxc6,bxc6,O-O,h6,Qf3,Nf6,Re1,O-O,Nf5,Bxf5,Qxf5,Qd7,Qxd7,Nxd7,Be3,Bf6,Bd2,Rfe8,Rab1,Nc5,f3,Rab8,b4,Na6,a3,Bd4+,Kf1,c5,Ne2,Be5,bxc5,Nxc5,Bb4,Ne6,Red1,Nf4,Nxf4,Bxf4,g3,Be3,Ke2,Bb6,g4,Rbd8,Bd2,d5,Be3,dxe4,Rxd8,exf3+,Kxf3,Rxd8,Bxb6,cxb6,Ke3,Rc8,Rc1,Rc3+,Kd4,Rxa3,Ke5,Rh3,Rh1,Re3+,Kd4,Re2,c3,a5,Rb1,Rxh2,Rxb6,Rh4,Kc5,Rxg4,Ra6,a4,Kb5,h5,c4,h4,c5,h3,c6,h2,c7,h1=Q', 'c8=Q+,Kh7,Qxg4', 'https://lichess.org/training/1qnNG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1QpJK', 'Blitz', 'PassedPrawns', 2195, 'C3PO58', 2211, 'e4,d5,d4,dxe4,Nc3,Nf6,f3,e3,Bxe3,g6,Qd2,Bg7,O-O-O,a6,Bh6,Bxh6,Qxh6,b5,h4,b4,Ne4,Nxe4,fxe4,Bg4,Be2,Bxe2,Nxe2,Nc6,Qg7,Rf8,Qxh7,Qd7,Rhf1,Qg4,Nf4,a5,Nd5,O-O-O,Rxf7,Qxe4,Nxe7+,Nxe7,Rxe7,Qf4+,Kb1,Rxd4,Rc1', 'Qxc1+,Kxc1,Rf1+,Re1,Rxe1#', 'https://lichess.org/training/1QpJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1qPyz', 'Rapid', 'PolatCagri', 1829, 'karimdeeb', 1832, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Bf5,e3,e6,Nf3,Be7,h3,Nbd7,g4,Bg6,Nh4,Be4,Nxe4,Nxe4,Bxe7,Qxe7,Nf3,O-O,Nd2,Qb4,Qc2,Ndf6,Bd3,dxc4', 'Bxe4,Nxe4,Qxe4', 'https://lichess.org/training/1qPyz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Qqzz', 'Blitz', 'JasonDaviesNaysmith', 1701, 'Shroomsss', 1638, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,d3,d6,O-O,Nf6,c3,c5,a3,Bg4,f3,Be6,Bxe6,fxe6,b4,b6,cxd4,cxd4,Bb2,e5,Qd2,Be7,f4,O-O,fxe5,dxe5,Rf3,Ng4,Rxf8+,Qxf8,Qe2,Ne3,Nd2,Rc8,Rc1,Bg5,Rxc8,Qxc8,Qh5,Bf6,Qe2,Qc2,Ba1,Qc1+,Kf2,Qxa1,Nc4,Nd1+,Kg3,Nc3,Qg4,Qe1+,Kh3,Qe2,Qc8+,Kf7,Nd6+,Kg6', 'Qf5+,Kh6,Nf7#', 'https://lichess.org/training/1Qqzz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1qSHT', 'Rapid', 'Retruco', 2146, 'Orlando_Gibbons', 2392, 'e4,d6,d4,Nf6,Nc3,g6,f3,Bg7,Be3,c6,Qd2,h5,h4,Nbd7,Nh3,b5,Ng5,Nb6,b3,a5,a4,b4,Ne2,O-O,g3,Qc7,Rd1,Ba6,Nf4,Bxf1,Kxf1,e5,dxe5,dxe5,Nd3,Rad8,Qf2,Nc8,Kg2,Rfe8,Qe2,Bf8,Bc5,Nd7,Bxf8,Rxf8,Nb2,Ncb6,Nc4,Nc5,Nxb6,Qxb6,Qc4,Nd7,Rd6,Kg7,Rhd1,Qb7,g4,hxg4,fxg4,Nb6,Qc5,Rxd6,Rxd6,Nc8,Rxc6,Qd7,Qxe5+,Kg8,Rc5,Qxg4+,Qg3,Qe2+,Kh3,Nb6,Rxa5', 'Rc8,Rf5,gxf5', 'https://lichess.org/training/1qSHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Qtax', 'Rapid', 'Karry_Gasparov', 1641, 'giuzen51', 1671, 'e4,e5,f4,exf4,Nf3,d6,d4,Be7,Bc4,h6,O-O,Nf6,Nc3,O-O,Bxf4,c6,d5,Nh7,Qd2,a6,dxc6,Nxc6,Bxh6,gxh6,Qxh6,Bg5,Nxg5,Qxg5,Qxd6,Ne5,Rad1,Bh3,Rf2,Nxc4,Qc7,Ne3,Rdd2,Nxg2', 'Rxg2,Bxg2,Rxg2', 'https://lichess.org/training/1Qtax');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1qUth', 'Rapid', 'sacalot', 2151, 'IM landitirana', 1809, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qd8,Rxe4+,Be6,Nxd4,Nxd4,Rxd4,Qf6,Ne4,Qe5,f4,Qf5,Ng3,Qa5,Bd2,Qb6,Be3,Bc5,f5,Bd5,Rxd5,Bxe3+,Kh1,O-O,Rd3,Rfe8,Qf3,Qxb2,Rf1,Bd4,Nh5,Bf6,Rb3,Qd4,Rxb7,Re3,Nxf6+,gxf6,Qf2,Rae8,Rxc7,Qe5,Rc4,Re1,Rf4,Qa1,h3', 'Rxf1+,Qxf1,Re1,Qxe1,Qxe1+', 'https://lichess.org/training/1qUth');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1QXXJ', 'Rapid', 'DullThing', 2111, 'Aspire_Perfection', 2130, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Nxc6,dxc6,O-O,e5,Nd2,Bc5,h3,O-O,Nb3,Be7,Be3,Be6,Nc5,Bxc5,Bxc5,Re8,b3,b6,Be3,Qc8,Qe2,Bxh3,gxh3,Qxh3,f3,Nh5,Qg2,Qc8,f4,exf4,Bxf4,Re6,Kh2', 'Nxf4,Rxf4,Rh6+,Kg1,Rg6', 'https://lichess.org/training/1QXXJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Qy1O', 'Rapid', 'NM Ginger64', 2154, 'AwareTenacious', 1946, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Nf6,Qe2,d6,O-O,Bxc3,bxc3,Nbd7,Bg5,e5,Nh4,O-O,Nf5,Re8,f3,a6,Kh1,Bc8,Qf2,Nf8,g4,Ne6,Bh4,Nf4,g5,N6h5,g6,f6,gxh7+,Kxh7,Ng3,Nh3,Qd2,N5f4,Ne2,g5,Nxf4,Nxf4,Bg3,Nh5,Rg1,Rg8,Bc4,Rg7,h4,Nxg3+,Rxg3,g4,fxg4,Bxg4,Rag1,Qd7,Be2,Rag8,Kh2,a5,Qd1,Bxe2,Qxe2,Rxg3', 'Qh5+,Kg7,Rxg3+,Kf8,Qh6+,Qg7,Rxg7', 'https://lichess.org/training/1Qy1O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1QZDW', 'Classical', 'ikkki', 1714, 'babuachary', 1771, 'e4,e5,Nf3,Nf6,Bc4,d6,Ng5,Be6,Bxe6,fxe6,Nxe6,Qe7,Nxf8,Rxf8,d3,Nc6,c3,h5,h3,O-O-O,Be3,Kb8,Nd2,d5,Bg5,Qf7,Nf3,dxe4,Nd2,Rxd3,Bxf6,Qxf6,O-O,g5,Qe2,Rfd8,Nxe4,Qg6,Rfe1,h4,Qg4,Rg8,Nc5,Rd6,Nd7+,Ka8,Nxe5,Nxe5,Rxe5,a6,Rae1,Rf6,Qd7,Rc6,Re6,Rxe6,Qxe6,Qh7,Qe7,Rg7,Qd8+,Ka7,a4,g4,Qd4+,b6,hxg4,h3,g3,Rd7,Qe4,Qh6,f4,h2+,Kh1,Qd6,Kxh2,Qd2+,Re2,Rh7+,Kg2,Qd7,Kf3,Rh8,a5,bxa5,Qd4+,Qxd4,cxd4,a4,d5,Rb8,Re3,Rxb2,Ra3', 'Rb3+,Rxb3,axb3,d6,cxd6', 'https://lichess.org/training/1QZDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1QzUC', 'Classical', 'MrLOBsTerr', 1750, 'VilacaNeto', 1813, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,c3,cxd4,cxd4,Nc6,O-O,Qb6,a3,Nge7,b4,Ng6,h3,Be7,Nc3,O-O,Na4,Qc7,Nh2,a6,g4,Be4,f3,Bxf3,Nxf3,Nh4,Bg5', 'Nxf3+,Rxf3,Bxg5', 'https://lichess.org/training/1QzUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1r4LO', 'Rapid', 'eneene', 1961, 'RendF', 2155, 'e4,c5,Nf3,Nc6,Bc4,e5,c3,Nf6,d3,Be7,Bb3,d6,Nbd2,O-O,Nf1,a5,a4,Qb6,Ng3,Bg4,Bc4,Nh5,h3,Nxg3,fxg3,Bd7,O-O,Nd8,Qe2,Be6,Bb5,f5,exf5,Bxf5,g4,Bxd3,Qxd3,Kh8,Kh1,Ne6,Qd5,Nc7,Qd3,Nxb5,axb5,Qd8,c4,b6,Bd2,Qd7,Qd5,Rab8,Ng5,Bxg5,Bxg5,Rbe8,Rae1,h6,Bh4,Rxf1+,Rxf1,e4,Rf7,Qe6,Qxe6,Rxe6,Rb7,e3,Rxb6,e2,Be1,Re4,Rxd6,Rxc4,b6,Rc1,b7', 'Rxe1+,Kh2,Rh1+,Kxh1,e1=Q+', 'https://lichess.org/training/1r4LO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1R5WE', 'Rapid', 'amboncarlsen18', 1995, 'swagmeister9000', 1961, 'e4,e5,f4,exf4,Nf3,Nf6,Nc3,d6,d4,Nc6,Bd3,Bg4,d5,Ne5,Bxf4,Bxf3,gxf3,Nh5,Bxe5,Qh4+,Kd2,dxe5,Qe2,Bb4,Rag1,Nf4,Qe3,b6,Rxg7,Bc5,Bb5+,Kd8,Qe1,Qh6,Qg3,Ng2+,Qg5+', 'Qxg5+,Rxg5,Be3+,Kd3,Bxg5', 'https://lichess.org/training/1R5WE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1r5Zh', 'Rapid', 'Jumgal', 1763, 'AlainDelon9696', 1852, 'e4,c5,g3,d6,Bg2,Nc6,Nf3,Nf6,Nc3,Bg4,h3,Bh5,g4,Bg6,d3,e6,Nh4,Nxe4,Nxe4,Qxh4', 'Bg5,Bxe4,Bxh4', 'https://lichess.org/training/1r5Zh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1RBVK', 'Rapid', 'Rigotar', 1901, 'anoa43', 1872, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nf6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bd2,Bd6,O-O-O,O-O,Ne4,Nxe4,Qxe4,Nd7,Ne5,Nf6,Qf3,Nd5,g4,c5,c3,cxd4,cxd4,Rc8+,Kb1,Bxe5,dxe5,Qc7,g5,hxg5,h6,Qxe5,hxg7,Kxg7,Bxg5,f5,Bh6+,Kf7,Bxf8,Rxf8,Rh7+,Ke8,Qh5+,Kd8,Qh4+,Kc8,Qc4+,Kb8,Qb5', 'Nc3+,bxc3,Qxb5+', 'https://lichess.org/training/1RBVK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Rcfx', 'Rapid', 'Ararat-04', 2221, 'Viktor1987_kz', 2223, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Bb5+,Nc6,Qd3,Bxf3,Qxf3,e6,c3,Bd6,O-O,Ne7,Bd3,Ng6,Re1,Rc8,Na3,a6,Nc2,Bb8,Qh5,Qh4,Rxe6+', 'fxe6,Qxh4,Nxh4', 'https://lichess.org/training/1Rcfx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1RCZM', 'Rapid', 'wjg17', 1688, 'nutalicious', 1669, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,e4,O-O,Bd3,c5,d5,Na6,a3,Nc7,O-O,Bg4,Bg5,Rb8,h3,Bd7,Re1,b5,b3,bxc4,bxc4,Re8,e5,dxe5,Nxe5,Qc8,Nxd7,Qxd7,Rb1,e6,dxe6,Nxe6,Bxf6,Bxf6,Ne4,Bg7,Qf3,Nd4,Qf4,Rxb1,Bxb1,Rc8,Nf6+,Bxf6,Qxf6,Re8,Rxe8+,Qxe8,Bd3,Qe1+,Kh2,Qc3,Qd8+,Kg7,Be4,Qxa3,f4,a5,Qd5,a4,f5,Ne2,fxg6,hxg6,Qe5+,Kf8,Qh8+,Ke7,Qe5+,Kf8,Qh8+,Ke7,Qe5+,Kd7,Qd5+,Ke7,Qe5+,Kd7,Qd5+,Kc7,Qxf7+,Kb6', 'Qb7+,Ka5,Qb5#', 'https://lichess.org/training/1RCZM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1REd8', 'Rapid', 'JMSXD', 1604, 'Vince1', 1627, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd3,d6,Nc3,a6,Nf3,e6,Bg5,Nf6,e5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bxf6+,gxf6,O-O-O+,Ke7,g3,b5,Bg2,Rb8,Kb1,Bb7,Bxb7,Rxb7,Rd2,Bh6,Rd3,Rd8,Rxd8,Kxd8,Rd1+,Ke7,a4,b4,Na2,a5,c3,bxc3,Nxc3,Ke8,Nb5,Rd7,Nd6+,Ke7,Nc8+,Ke8,Nd6+,Kd8', 'Nxf7+,Ke7,Rxd7+,Kxd7,Nxh6', 'https://lichess.org/training/1REd8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1rjQK', 'Blitz', 'asel1951', 1971, 'guylev2006', 1966, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,f3,O-O,Be3,Bd7,Qd2,Nc6,O-O-O,Qc7,Kb1,b5,g4,Rfb8,h4,b4,Nce2,a5,h5,a4,Bc4,Nxd4,Qxd4,b3,axb3,axb3,Bxb3,Qa5,Kc1,d5,Nc3,dxe4,fxe4,Bb4,g5,Qa1+,Nb1,Ng4,Bf4,Rb7,g6,Rba7,gxf7+,Kh8,Bd6', 'Qxb1+,Kxb1,Ra1#', 'https://lichess.org/training/1rjQK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1RjvD', 'Classical', 'UmbertoGomez', 1807, 'Nax_2018', 1729, 'e4,Nc6,Nf3,d6,Bb5,Bd7,c3,e5,d4,exd4,cxd4,Qe7,O-O,O-O-O,Qa4,a6,Nc3,axb5,Qa8+,Nb8,e5,dxe5,Re1,f6,dxe5,Qf7,Bf4,Bc6,Rac1,Bc5,e6,Qg6,Nxb5,Bxb5,Rxc5,Bc6,Rxc6,bxc6,Be3,Qe4,Ba7,Qb4,Bxb8,Qxb8,Qxc6,Ne7,Qa6+,Qb7,Qa3,Rhe8,h3,Ng6,Re3,Rd1+,Kh2,Nf4,Rb3,Qc6,Qa7,Kd8,Rc3,Qd6', 'Qb8+,Ke7,Rxc7+,Qxc7,Qxc7+', 'https://lichess.org/training/1RjvD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1RlGF', 'Rapid', 'jamie-chess', 1619, 'NunesReed', 1639, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,c5,Nf5,c4,Bf4,cxb3,cxb3,b4,Ne2,Bxf5,exf5,Be7,Rc1,O-O,O-O,d5,Nd4,Nbd7,Re1,Re8,Nc6,Qb6,Nxe7+,Kh8,Nxd5', 'Rxe1+,Qxe1,Nxd5', 'https://lichess.org/training/1RlGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1rM2X', 'Rapid', 'fedi1996', 1930, 'LifriMorlon', 1949, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bd3,Bd6,Nf3,O-O,Bg5,Re8+,Be2,Bg4,Nxd5,Bxf3,gxf3,Nbd7,Qd2,c6,Ne3,Qb6,Nc4,Qc7,Nxd6,Qxd6,O-O-O,b5,Bf4,Qd5,b3,a5,Rhg1,Nf8,Rg5,Qe6,Rdg1,Ng6,Be3,a4,h4,axb3,cxb3,h6,Rxg6,fxg6,Rxg6,Ra7,Bd3,Qh3,Bxh6,Qh1+,Kb2,Rxa2+,Kxa2,Ra8+,Kb2', 'Qa1+,Kc2,Ra2#', 'https://lichess.org/training/1rM2X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1RRxp', 'Blitz', 'ZKH_73', 1881, 'CM Kingslayer061', 1928, 'e4,c5,Nf3,g6,Bc4,Bg7,Ng5,e6,Qf3,Qxg5,O-O,Qf6,Qb3,Nc6,c3,Na5,Qa4,Nxc4,Qxc4,b6,Na3,Ne7,Nb5,O-O,Nd6,Qe5,Qd3,f5,f4,Qf6,e5,Qh4,Nxc8,Nxc8,Qxd7,Qe7,Qc6,Rb8,d4,Qe8,Qc7,Rf7,Qxb8,Qc6,Be3,Rb7,Qa8,Qc7,Rad1,c4,d5,exd5,Rxd5,Bf8,Rfd1,Rb8,Rd7', 'Qxd7,Rxd7,Rxa8', 'https://lichess.org/training/1RRxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1RSpb', 'Rapid', 'Granhelm-derNiedere', 1911, 'errolcross', 1869, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,Bb4,Bd3,Nf6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Rg8,Qd2,Nc6,O-O-O,Nxd4,e5,Rxg5,Qxg5,Nd5,Qg8+,Ke7,Nxd5+,Bxd5,Qg5+,Ke8,Qg4,Nc6,h4,Be7,h5,Nxe5,Qg8+,Bf8,h6,f5,h7,Nf7,Qxf7+,Kxf7,h8=Q,Qg5+,Kb1,Bg7,Qh5+,Qxh5,Rxh5,c5,c4,Bxg2,Rg1,Bf3,Rhg5,Be5,Bxf5,exf5', 'Rxf5+,Ke6,Rxf3', 'https://lichess.org/training/1RSpb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1rV24', 'Rapid', 'haaron123123', 1651, 'YoungIrving7', 1640, 'e4,e5,Nf3,Nc6,Bb5,f5,exf5,e4,Ng1,Nf6,d3,d5,dxe4,Nxe4,Qh5+,Ke7,Bg5+,Nxg5,Qxg5+,Kf7,Nf3,Be7,Qh5+,g6,fxg6+', 'hxg6,Ne5+,Nxe5', 'https://lichess.org/training/1rV24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1rvEM', 'Blitz', 'TomasUni', 1840, 'BADMOTHERF95', 1795, 'd4,d5,c4,c6,e3,Bf5,Nc3,Nf6,Nf3,e6,a3,a5,h3,h6,c5,Be7,Bd3,Bxd3,Qxd3,O-O,O-O,Nbd7,b3,b5,Bb2,Qc7,b4,a4,Rae1,Nh7,e4,dxe4,Nxe4,Nhf6,Ng3,Rad8,Bc1,Nd5,Ne5,Bf6,f4,Ne7,Ne4,Bxe5,fxe5,Nxe5,Qg3,Rxd4,Bxh6,N7g6,Nd6,gxh6,Rxe5,Rxd6,cxd6,Qxd6,Re3,Qd4,h4,Kh7,h5,Nh4,Kh2,Rg8,Qe1,Rxg2+,Kh1,Qg4,Rxf7+,Kg8,Rf1', 'Rh2+,Kxh2,Qg2#', 'https://lichess.org/training/1rvEM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1rWUD', 'Rapid', 'xxlm', 2020, 'dephit', 2030, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e5,Qd1,Be7,O-O,O-O,Kh1,a6,Re1,Qc7,Bb3,Bg4,f3,Bd7,Nd5,Nxd5,Bxd5,Bc6,c4,b5,b3,g6,Bh6,Rfc8,Rc1,Bh4,Rf1,Be7,Qd2,Qd7,f4,Bxd5,cxd5,Rc5,f5,Rac8,Rxc5,Rxc5,fxg6,hxg6,Qf2,Bf8,Bg5,Qc7,Qh4,Rc2,h3,Rxa2,Bf6,Bg7,Bd8,Qc2,Rg1,Qxb3,Qe7,Qb4', 'Qe8+,Kh7,Qxf7,Qd2,Bf6', 'https://lichess.org/training/1rWUD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1RwxO', 'Rapid', 'promatti', 1706, 'BlunderET', 1812, 'd4,d5,e3,e6,Bd3,Nf6,Nd2,c5,c3,c4,Bc2,Nc6,f4,Be7,Ngf3,h6,Ne5,Nxe5,fxe5,Nh7,O-O,f5,exf6,Nxf6,Bg6+,Kd7,e4,Rf8,e5,Ng8,Rxf8,Qxf8,Nf3,Kc7,a4,Bd7,a5,a6,b4,cxb3,Qxb3,Rd8,Qb6+,Kc8,Bd3,Bc6,Bxa6,Rd7,Bb5,Bd8,Qc5', 'Qxc5,dxc5,Bxb5', 'https://lichess.org/training/1RwxO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1rxRo', 'Rapid', 'cleisinhochess', 1702, 'EbuUsama', 1759, 'e4,Nc6,d4,e5,Nf3,exd4,Nxd4,Nf6,Nc3,d6,Nf3,Bg4,h3,Be6,Be2,Be7,O-O,O-O,a3,Ne5,Bf4,Ng6,Bh2,Qd7,Nd4,d5,Nxe6,fxe6,exd5,exd5,Bd3,c6,Ne2,Nh4,Ng3,Bc5,c4,Qe7,Nf5,Nxf5,Bxf5,Rae8,Qc2,d4,b4,Bd6,c5,Bc7,Qc4+,Kh8,Qxd4,Rd8,Qh4', 'Bxh2+,Kxh2,Qe5+,Qg3,Qxf5', 'https://lichess.org/training/1rxRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1RzwL', 'Classical', 'arunvi', 1756, 'BI_COACH', 1750, 'e4,b6,d4,Bb7,Nc3,g6,Bc4,Bg7,Qf3,e6,Nh3,h6,O-O,Qf6,Qg3,d6,d5,Nd7,Nb5,Ne5,Nxc7+,Kd8,Nxa8,Nxc4,Bf4,e5,Be3,Bxa8,b3,Nxe3,fxe3,Qe7,Nf2,Nf6,Ng4,Nxe4,Qe1,Bxd5,c4,Be6,Nf2,Bf5,Rd1,Qe6', 'Nxe4,Bxe4,Qh4+,Kc7,Qxe4', 'https://lichess.org/training/1RzwL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1s1GR', 'Rapid', 'LuessiT', 2049, 'deyez2500', 2056, 'd4,c6,c4,d5,Nc3,Nf6,Nf3,e6,e3,Bd6,Bd2,O-O,Bd3,dxc4,Bxc4,Qc7,O-O,Nbd7,e4,e5,Be3,b5,Bb3,b4,dxe5,Nxe5,Nxe5,Bxe5,f4,bxc3,fxe5,Nxe4,Qd4,Nd2,Bxd2,cxd2,Rad1,Be6,Bxe6,fxe6,Rxf8+,Rxf8,Rxd2,h6,h3,Rf5,Qd6,Qb6+,Kh2,Qe3', 'Qxe6+,Rf7,Rd8+,Kh7,Qxf7', 'https://lichess.org/training/1s1GR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1S6BU', 'Rapid', 'jrickert', 1801, 'jutay', 1892, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,h3,Qd4,Qf3,O-O,d3,Qe5,Be3,Bb4,Bd2,Re8,a3,Bc5,Be3,Bd6,d4,Qa5,b4', 'Bxb4,axb4,Qxa1+', 'https://lichess.org/training/1S6BU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1s8PN', 'Rapid', 'paperwings2004', 1707, 'Thandar', 1874, 'd4,d5,Nc3,Nf6,Bf4,Bf5,Nf3,e6,a3,Bd6,Bxd6,cxd6,e3,O-O,Be2,Nc6,O-O,e5,dxe5,dxe5,Bb5,Qe7,Nxd5,Nxd5,Qxd5,Rad8,Qb3,a6,Bxc6,bxc6,Rad1,Qe6,Qxe6,Bxe6,Rxd8,Rxd8,Nxe5,Rd2,Nxc6,Rxc2,Nb4,Rxb2,Rd1,h6,h3,a5,Nc6,Bb3,Rd8+,Kh7,Nxa5,Be6,a4,Ra2,Rd4,f5,Nc6,g5,Nd8,Bc8,Nf7,Kg6,Ne5+,Kh5,f3,Bb7,g4+,fxg4,fxg4+,Kh4,Nf7,Kg3,Nxh6', 'Ra1+,Rd1,Rxd1#', 'https://lichess.org/training/1s8PN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1s9q3', 'Blitz', 'SoundsGood', 2185, 'ssseconds', 2213, 'e4,g6,Nf3,Bg7,d4,d6,c4,Nf6,Nc3,O-O,Bd3,e5,dxe5,dxe5,O-O,Nc6,Bg5,h6,Bxf6,Bxf6,Nd5,Bg7,b4,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,c6,Ne3,Qe7,c5,Rfd8,Nc4,f5,Nd6,f4,f3,Kh7,Rc1,Bf8,Qe1,Qg7,Nc4,Nxf3+,Rxf3,g5,Qc3,Be7,Rf2,h5,Rcf1,g4,Rxf4,exf4,e5+,Kh8,Rxf4,gxh3,Rf2,Rg8,Qc2,Bg5,Qe2,Qh6,e6,hxg2,Qe5+,Qg7,Qg3,h4,Qg4,Be7', 'Qh5+,Qh6,Qxh6#', 'https://lichess.org/training/1s9q3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1sC07', 'Rapid', 'delochess777', 1997, 'hongoroo', 2134, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,c4,e6,Be3,Qc7,a3,Nf6,Nc3,Be7,Be2,O-O,O-O,Ne5,Rc1,b6,f4,Ng6,Bf3,Rb8,e5,Ne8,Ne4,f5,exf6,gxf6,b4,Ng7,g3,f5,Nf2,a5,Nb5,Qd8,Nd6,axb4,axb4,Ne8,c5,b5,Qd4,Bf6,Qd3,Nxd6,cxd6,Bb7,Nh3,Bxf3,Rxf3,Rb7,Rc5,Qb8,g4', 'fxg4,Rg3,gxh3', 'https://lichess.org/training/1sC07');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1sCQt', 'Rapid', 'Phareouest', 1780, 'bulut-ali', 1769, 'f4,d5,Nf3,Nf6,e3,e6,Be2,Be7,O-O,b6,c3,c6,d4,Bb7,Bd2,Nbd7,Be1,O-O,Nbd2,Ne4,Nxe4,dxe4,Ne5,f5,Bc4,Rf6,Bh4,Nxe5,Bxf6', 'Nxc4,Bxe7,Qxe7', 'https://lichess.org/training/1sCQt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1SDWP', 'Rapid', 'briff', 1649, 'Batory2', 1752, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Ne5,Bd3,Bc5,c3,a6,Bf4,Ng6,Be3,d6,O-O,h6,Nf5,Qf6,Bxc5,dxc5,Nd2,Bxf5,exf5,Ne5,Nf3,O-O-O,Nxe5,Qxe5,Qh5,Rxd3,Qxf7,Nf6,Qxg7,Qxf5', 'Qxh8+,Rd8,Qxh6', 'https://lichess.org/training/1SDWP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1sE0m', 'Rapid', 'Piratchess', 1887, 'AGeorgeV', 1924, 'c4,e5,Nc3,Nc6,g3,Nf6,Bg2,d6,d3,Be6,e4,Be7,Nge2,O-O,O-O,Qd7,Re1,Bh3,Bh1,Ne8,f4,f5,exf5,Rxf5,Nd5,Bg4,Qb3,Bxe2,Rxe2,Nd4,Qxb7,Nxe2+,Kg2,Nxf4+,gxf4,Rd8,Bd2,Nf6,Re1,Nxd5,Qxd5+,Kh8,Kf1,exf4', 'Rxe7,Qxe7,Qxf5', 'https://lichess.org/training/1sE0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1SEPj', 'Blitz', 'Maks17', 1908, 'Akingandmate', 1880, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,Nf3,Bd6,Bg5,Nf6,Nd2,O-O,Qf3,Nbd7,Be2,Qc7,O-O-O,Re8,h4,b5,h5,h6,Bxf6,Nxf6,Bd3,b4,Ne2,Qa5,Kb1,c5,Nb3,Qb6,dxc5,Bxc5,Nxc5,Qxc5,Nc1,Bg4,Qf4,Bxd1,Rxd1,Ne4,f3,Nf2,Nb3,Nxd3,Rxd3,Qc4,Qd2,Rad8,Na5,Qb5,Nb3,a5,Nd4,Qc4,b3,Qc5,Nf5,Re5,g4,Rde8,Kb2,Kh7,Nd4,R8e7,Nf5,R7e6,Nd4,Rf6,Nf5,g6', 'Qxh6+,Kg8,Qg7#', 'https://lichess.org/training/1SEPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1sex5', 'Rapid', 'sina2050', 1822, 'Subas_Herrero', 1871, 'd4,Nf6,c4,g6,Bf4,Bg7,Nc3,O-O,e4,d6,Nf3,Bg4,h3,Bxf3,Qxf3,Re8,Nd5,e5,Nxf6+,Bxf6,dxe5,dxe5,Be3,Qe7,Rd1,Nc6,Be2,Bg7,O-O,Rad8,Rd5,Nd4,Bxd4,exd4,Bd3,Qb4,b3,c6,Rxd8,Rxd8,h4,Qa5,Bb1,Qc3,Rd1,Qxf3,gxf3,c5,f4,Bh6,f5,gxf5,exf5,f6,Re1,Kf7,Re6,Bf4,Bd3,Rg8+,Kf1,Be5,a3,Rg4,b4,cxb4,axb4,Rxh4,c5,Rh1+,Ke2,h5,Bc4,Kf8,f4,Rc1,Bd5,d3+,Kxd3,Rd1+,Kc4,Rd4+,Kb5,Rxd5,fxe5,fxe5,Rh6,e4,Rxh5,Kg7', 'f6+,Kxf6,Rxd5', 'https://lichess.org/training/1sex5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1SFsH', 'Rapid', 'CrimsonAtomic', 1807, 'Baden2018', 1728, 'd4,c6,Bf4,d5,c4,Bf5,e3,e6,Nc3,h6,Qb3,Qb6,cxd5,Qxb3,axb3,cxd5,Nb5,Bb4+,Nc3,Nc6,Ra4,Nf6,Bb5,O-O,Bxc6,Bxc3+,bxc3,bxc6,c4,Nh5,Bd6,Rfd8,Bc7,Rd7,Be5,Be4,Nf3,Bd3,Kd2,Bh7,Rha1,f6,Bg3,Nxg3,hxg3,dxc4,bxc4,Be4,c5,Bxf3,gxf3,Rb7,Kc3,g5,Ra6,Rc7,f4,gxf4,gxf4,h5,Rh1,Rh7,Rxc6,h4,Rxe6,Kf7,Rc6,Kg6,d5,Kf5,Kd4,a5,e4+,Kxf4,d6,a4,d7,a3,Rc8', 'Rxd7+,Kc4,Rxc8', 'https://lichess.org/training/1SFsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1SFVY', 'Blitz', 'Newlevel462', 2316, 'weiweima', 2371, 'd4,d5,Nc3,e6,Bf4,Bd6,e3,Bxf4,exf4,Qd6,Qf3,Nf6,O-O-O,O-O,g4,Bd7,g5,Ne4,Nxe4,dxe4,Qg3,Nc6,Ne2,e3,fxe3,Qd5,Nc3,Qxh1,Bg2,Qxd1+,Nxd1,Ne7,e4,Rad8,h4,b6,h5,c5,h6,cxd4,hxg7,Kxg7,Qh4,Ng8,Nf2,Bc6,Ng4,d3,cxd3,Rxd3,Ne5,Rd6,Nc4,Rd4,Ne5,Bxe4,Bxe4,Rxe4,Qf2,Rc8+,Kb1,Ne7,a3,Nf5,Ng4,Rcc4,Nf6,Rxf4,Qh2,Nh4', 'Nh5+,Kg6,Nxf4+,Rxf4,Qxf4', 'https://lichess.org/training/1SFVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1SGzJ', 'Blitz', 'FM Beletko', 2367, 'Viageiro', 2434, 'Nf3,Nf6,g3,e6,Bg2,d5,O-O,Be7,d3,O-O,Nbd2,b6,e4,Bb7,e5,Nfd7,Re1,c5,Nf1,d4,h4,Nc6,N1h2,Qc7,Bf4,Nb4,h5,Nd5,Bd2,Rfd8,h6,g6,Ng4,b5,Bg5,N7b6,Qd2,a5,Bxe7,Qxe7,Ng5,a4,Ne4,a3,b3,b4,Kh2,Nc3,Ngf6+,Kh8,Nxc3,bxc3,Qg5,Bxg2,Kxg2,Nd5,Ne4,Qxg5,Nxg5,Kg8,Ne4,Nb4,Re2,Ra5,Nf6+,Kh8,f4,Nd5,Nxd5,Rxd5,Kh3,Kg8,Kg4,Kf8,Kg5,Ke7,g4,f6+,Kh4,fxe5,Rxe5,Rxe5,fxe5,c4,bxc4,Rxe5,Rb1,Re3,Rb7+,Kf6,g5+,Kf5,Rf7+,Ke5,Rxh7,Re2,Kg3,Rxc2,Rf7,Rc1,Kg2,c2,h7,Rg1+,Kxg1,c1=Q+,Kh2,Qc2+', 'Kg3,Qxd3+,Rf3', 'https://lichess.org/training/1SGzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1shn2', 'Blitz', 'FM mrataque', 2467, 'FM VinzentSpitzl', 2478, 'e4,c5,Nf3,d6,b4,cxb4,d4,e6,Bd3,Nf6,O-O,d5,e5,Ne4,Re1,Nc6,Bxe4,dxe4,Rxe4,Be7,a3,Bd7,axb4,Nxb4,c3,Nd5,Ba3,Bc6,Bxe7,Qxe7,Rg4,O-O,Na3,Nxc3,Qd2,Nd5,Qh6,f5,exf6,Nxf6,Rg3,Bxf3,gxf3,Kh8,Qh4,Nd5,Qe4,Rf4,Qe5,Raf8,Nc4,a6,Nd2,R4f5,Qe1,Nf4,Qe4,Qd7,Rb1,b5,Ra1,Qd6,Nb3,Nh5,Rh3,Rg5+,Kh1,Nf6,Qe3,Rf5,Nc5,Nd5,Qxe6,Qxe6,Nxe6,Rxf3,Rxf3,Rxf3,Rxa6,h5', 'Ra8+,Kh7,Ng5+,Kg6,Nxf3', 'https://lichess.org/training/1shn2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ShrN', 'Rapid', 'kovturin', 1611, 'Alokauraiya', 1620, 'd3,e5,Bd2,d5,Qc1,Nf6,Nc3,Nc6,Nd1,d4,h4,Bd6,g3,O-O,h5,h6,Bxh6,gxh6,Qxh6,Ne7,Qc1,Bf5', 'Qg5+,Kh7,Qxf6', 'https://lichess.org/training/1ShrN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ShsG', 'Rapid', 'RLAgent316', 2277, 'dofranck', 2215, 'e4,c5,Nf3,d6,d4,cxd4,c3,Nf6,Bd3,dxc3,Nxc3,Nc6,h3,g6,O-O,Bg7,Qe2,O-O,Rd1,a6,Bf4,Qb6,e5,dxe5,Nxe5,Nxe5,Bxe5,Be6,b3,Rfd8,Na4,Qa7,Bc7,Nd5,Bxd8,Bxa1,Bxe7,Bd4,Bh4,b5,Be4,bxa4,Qd3,axb3,axb3,Bb6,Bxd5,Bxd5,Qxd5,Re8,Qc6,Re6,Qc8+,Kg7,Rd7,Bxf2+,Bxf2,Re1+,Kh2,Qxf2,Qc3+,Kh6,Rxf7', 'Qg1+,Kg3,Re3+,Qxe3+,Qxe3+', 'https://lichess.org/training/1ShsG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1siCG', 'Rapid', 'KSKumar', 1764, 'Alexsandr_1982', 1784, 'e4,d5,exd5,Bf5,Nc3,Nf6,Qf3,g6,Bb5+,Nbd7,h3,Bxc2,Nge2,a6,Bc4,b5,Bb3,Bxb3,axb3,Bg7,O-O,Nc5,b4,Nb3,Ra3,Nxc1,Rxc1,Qd6', 'Nxb5,axb5,Rxa8+', 'https://lichess.org/training/1siCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1sicN', 'Rapid', 'Imshahid', 1936, 'PO3A', 1808, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,e3,Bb4+,Bd2,dxe3,fxe3,Bg4,a3,Bxd2+,Qxd2,Bxf3,gxf3,Qh4+,Qf2,Qxf2+,Kxf2,Nxe5,Nc3,c6,f4,Ng4+,Kf3,N8f6,Bh3,Nh6,Ne4,Nxe4,Kxe4,O-O,Rad1,f5+,Kf3,g6,Rd7,Rf7,Rd3,Re7,Rhd1,Kf8,b4,a6,Bg2,Ng4,h3,Nf6,a4,b5,axb5,axb5,c5,Nd5,Rb3,Re4,Kf2,Rxb4', 'Bxd5,Rxb3,Bxb3', 'https://lichess.org/training/1sicN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1SME1', 'Rapid', 'Zotkaev0514', 1823, 'sema20', 1909, 'c4,e6,g3,d5,Bg2,Nf6,Nf3,Be7,O-O,O-O,b3,b6,Bb2,Bb7,d3,c5,Nbd2,d4,b4,Bd6,bxc5,bxc5,e3,e5,Qb3,Qc7,Ng5,Bxg2,Kxg2,Nc6,Nde4,Rab8,Qd1,Rxb2,Nxf6+,gxf6,Ne4,f5,Nf6+,Kg7,Nh5+,Kh8,Qf3,Qd7,e4,f4,Kh1,f5,gxf4,exf4,Rg1,Qf7,Rg7,Qe6,Qg2,Ne5', 'Rxh7+,Kxh7,Qg7#', 'https://lichess.org/training/1SME1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1SnfD', 'Rapid', 'GuyIncognito_de', 1812, 'Jordiboc', 1830, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,h6,O-O,Nf6,d3,Qe7,h3,a6,Nbd2,Be6,Bb3,Bxb3,axb3,Qe6,d4,exd4,cxd4,Qd7,Re1,Be7,Nc4,d5,Nce5,Nxe5,dxe5,Nxe4,Nd4,O-O,Be3,Rae8,Nf3,c6,Qc1,Qe6,Nd4,Qg6,Qc2,Bc5,Nf3,Bxe3,Rxe3,f6,exf6,Rxf6,Nh4,Qf7,f3,Ng3,Rae1,Rxe3,Rxe3,Ne4,Qe2,Ng3,Re8+,Kh7,Qd3+,g6,Qe3,Ne4,Re5,Re6', 'Rxe6,Qxe6,fxe4', 'https://lichess.org/training/1SnfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1So5s', 'Rapid', 'Almver', 2122, 'anjugrel', 2026, 'd4,f5,Bf4,Nf6,e3,e6,Nf3,b6,h3,Bb7,c4,Bb4+,Nc3,O-O,Qb3,Bxc3+,bxc3,d6,c5,Qe7,cxd6,cxd6,Bc4,Bd5,O-O,Nc6,Bxd5,Nxd5,Bh2,Rac8,Rac1,h6,Rfe1,Nf6,Qa3,Rfd8,c4,Na5,c5,dxc5,dxc5,Ne4,Bd6,Nxd6,cxd6,Qxd6', 'Qxd6,Rxd6,Rxc8+', 'https://lichess.org/training/1So5s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1spDM', 'Blitz', 'WolfgangGalow', 1940, 'Molloy1951', 2126, 'g3,c5,Bg2,Nc6,c3,d5,d3,e6,e4,dxe4,dxe4,Qxd1+,Kxd1,Nf6,h3,Be7,Be3,O-O,Nd2,Rd8,Kc2,Rb8,Ne2,b6,g4,Bb7,g5,Nd7,f4,Ba6,Ng3,Na5,b3,Nf8,c4,Nc6,Nf3,Nb4+,Kb2,Nd3+,Kc3,b5,cxb5,Bxb5,Rhd1,a6,Bf1,c4,bxc4,Bb4+,Kb3,Bxc4+,Kxc4,Rbc8+,Kb3', 'Rc3+,Ka4,Ra3#', 'https://lichess.org/training/1spDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1STSd', 'Blitz', 'IM amrsobh', 2365, 'Ben_Peach', 2343, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,e4,d5,e5,Ne4,Bd3,c5,Nf3,Nc6,a3,Bxc3+,bxc3,cxd4,cxd4,f5,exf6,Nxf6,Be3,Qa5+,Nd2,b6,O-O,Ba6,Rfc1,Rac8,Nb3,Qa4,cxd5,exd5,Bxa6,Qxa6,Qf5,Qb7,Rab1,Qd7,Qg5,Ne4,Qh4,Rf6,f3,Nd6,Qh5,Rf5,Qh3,Nc4,Bf2,Rcf8,Re1,a5,Ra1,a4,Nc1,N6a5,Nd3,Nb3,Ra2,Qd6,Nb4,Nxa3,Rxa3,Qxb4,Ra2,Na5,Rae2,Nc4,Re8,a3', 'Qxf5,Qxe1+,Bxe1', 'https://lichess.org/training/1STSd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Sv76', 'Classical', 'Maxim_Sukhovenko', 2009, 'srdsosee', 1888, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Be7,Bd3,d6,h3,h6,f4,O-O,Qf3,Bb7,Bd2,Rb8,O-O-O,Qc8,g4,d5,g5,dxe4,Nxe4,Nxe4,Bxe4,hxg5,fxg5,c5,h4,Bxe4,Qxe4,Qb7,Qxb7,Rxb7,Bf4,f6,Rd7,fxg5,Bxg5,Bxg5+,hxg5,Rf7,Rd8+,Rf8,Rd7,a5,g6,Rf6,Rd8+,Rf8', 'Rh8+,Kxh8,Rxf8#', 'https://lichess.org/training/1Sv76');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1SWmp', 'Rapid', 'PekkaKouhia', 1662, 'gyasagyghga', 1641, 'd4,g6,e3,d6,h3,Bg7,Nf3,Nf6,Bd3,e5,dxe5,dxe5,Nxe5,c6,Qe2', 'Qa5+,Nc3,Qxe5', 'https://lichess.org/training/1SWmp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1SX0H', 'Blitz', 'SergV161', 1619, 'Cycloid10', 1651, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Be2,Nf6,O-O,Be7,f4,O-O,e5,dxe5,Qxd8,Bxd8,fxe5,Nd7,Bf4,Be7,Nb5,b6,Nc7,Rb8,Nb5,a6,Nd6,b5,c4,bxc4,Bxc4,Rxb2,Nxc8,Rxc8,Bxa6,Rc6,Bb5,Rxb5,a4,Ra5,Bd2,Raa6,a5,Bd8,Rfb1,h6,Rb7,Nxe5,Bf4,Nc4,Rf1,Bxa5,Bxh6,Rab6,Rbxf7,Ne5', 'Rxg7+,Kh8,Rf8#', 'https://lichess.org/training/1SX0H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1SYHn', 'Blitz', 'bebertiazo', 2124, 'Alexa-06', 2089, 'd4,d5,Nf3,e6,e3,Nf6,Bd3,Be7,O-O,O-O,b3,c5,Bb2,Nc6,a3,b6,Nbd2,Bb7,Ne5,Rc8,f4,h6,Rf3,Nxe5,dxe5,Ne4,Rh3,f6,g4,f5,g5,hxg5,Qh5,gxf4,exf4,Nxd2,Kf2,Ne4+,Ke2,c4,Rg1,Bg5,fxg5,cxd3+,Kd1,Nf2+,Kc1,Rxc2+,Kb1,Nxh3,g6,Re8', 'Qh7+,Kf8,Qh8+,Ke7,Qxg7#', 'https://lichess.org/training/1SYHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1t183', 'Rapid', 'FelipeLoffredo', 1661, 'Kokokerolls2013', 1672, 'e4,e5,Nf3,Nf6,Bc4,Bc5,O-O,c6,d4,Bxd4,Nxd4,exd4,Qxd4,d5,exd5,cxd5,Bb5+,Nc6,Re1+,Be6,Bxc6+,bxc6,Qa4,Qb6,Be3,Qxb2,Qxc6+,Ke7,Bc5+,Kd8,Qd6+,Nd7,Qe7+,Kc8,Nd2,Qf6,Qd6,Nxc5,Qxc5+,Kd7,Rab1,Qd8,Rb7+,Ke8,Qc6+,Kf8,Nf3,Rc8,Qa4,Rc4,Qb3,Re4,Rb8,Rxe1+,Nxe1,Bc8,Qb5,Ke7,Qc5+,Qd6,Qe3+,Qe6,Qxa7+,Bd7,Rb1,Re8,Qc5+,Qd6,Qd4,Kf8,Kf1,Qxh2,Nf3,Qd6,Re1,Be6,Ng5,Qh2,g3,Bh3+,Nxh3', 'Qxh3+,Kg1,Rxe1#', 'https://lichess.org/training/1t183');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1t35l', 'Rapid', 'shahed626', 1702, 'adelh', 1764, 'e4,c5,Bc4,Nc6,Nc3,d6,Nf3,a6,a4,Bd7,d3,e6,Bd2,Nge7,Bg5,h6,Bh4,Qc7,O-O,Ng6,Bg3,Be7,Qd2,Nd4,Nxd4,cxd4,Ne2,e5,f4,Bh4,f5,Bxg3,Nxg3,Nf4,Ne2,Nxe2+,Qxe2,O-O,Rf3,Rac8,Rg3,b5,axb5,Bxb5,Bb3,a5,Qd2,Kh7,Rxa5,Bd7,Ra1,Ra8,Rf1,Ba4,Bc4,Rab8,b3,Bb5,Bxb5,Rxb5,Qe2,Rc5,Qg4,Rg8,f6,g6,h4,h5,Qg5,Rxc2,Rf5,Rc1+,Kh2,Rb1', 'Qxh5+,gxh5,Rxh5#', 'https://lichess.org/training/1t35l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1T5CY', 'Rapid', 'WalterGKS', 1706, 'marquinholinux', 1789, 'e4,e5,f4,Nc6,Nf3,d6,fxe5,dxe5,Bc4,Bg4,O-O,Nf6,d3,Nd4,Nbd2,Bc5,Kh1,O-O,h3,Bh5,g4,Nxf3,Nxf3,Bg6,Nxe5,Nxe4,Nxg6,Ng3+,Kg2,Nxf1,Nxf8,Qd4,Qf3', 'Qg1#', 'https://lichess.org/training/1T5CY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1t5ja', 'Rapid', 'Lord_Melbury', 1890, 'danbi', 1893, 'd4,d5,Nf3,Nc6,c4,e6,Bg5,Nf6,Nc3,Be7,e3,Bd7,Bd3,O-O,O-O,h6,Bh4,Na5,Rc1,dxc4,Bb1,b5,Bxf6,Bxf6,Ne4,Be7,Qc2,f5,Nc5,Bxc5,dxc5,Nb7,Rfd1,Nxc5,Ne5,Qe8,Qe2,a6,b4,Nd3,Bxd3,cxd3,Rxd3,Bc8,Rxc7,Rb8,Qf3,Kh8,Qg3,g5,Qh3,Rf6,Qf3,Qf8,a3,g4,Qc6,Qg8,Rc3,Rf8,g3,Rd8,Nd7,Bxd7,Rxd7,Rxd7,Qxd7,Rd8,Qc7,Rd1+,Kg2,Qa8+,Rc6', 'Rc1,Qb8+,Qxb8', 'https://lichess.org/training/1t5ja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1t6CS', 'Rapid', 'Jude-greatthinkers', 1735, 'vk2018', 2004, 'e4,c6,d3,d5,Nd2,Nf6,Ngf3,Bg4,g3,e6,h3,Bh5,Bg2,Nbd7,g4,Bg6,Nh4,dxe4,Nxg6,hxg6,Nxe4,Nxe4,Bxe4,Nf6,Bg5,Be7,Bxf6,Bxf6,Qf3,Bxb2,Rb1,Bc3+,Ke2,Qc7', 'Rxb7,Qxb7,Bxc6+,Ke7,Bxb7', 'https://lichess.org/training/1t6CS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1taKR', 'Blitz', 'vint78912131', 1761, 'IM onatog', 1709, 'c4,e5,Nc3,Nf6,e4,Bb4,Nge2,O-O,a3,Bxc3,Nxc3,d6,h3,Nc6,g4,Nd7,b4,a5,b5,Nd4,d3,Nc5,Be3,Nce6,Bg2,c6,a4,Nf4,Bxf4,exf4,O-O,h5,f3,Qg5,Ne2,hxg4,fxg4,Qc5,Nxd4,Qxd4+,Kh1,g5,Rf3,Kg7,Qe2,f6,Raf1,Be6,bxc6,bxc6,R1f2,Rab8,Bf1,Rb3,Rh2,Rh8,Qc2,Rb2,Qxb2,Qa7,d4,Rb8,Qc3,Rb1,d5,cxd5,cxd5,Bd7,h4,Bxg4,Rff2,Qe3,Qc7+,Kg6,Qxd6,Bf3+,Kg1', 'Rxf1+,Kxf1,Qc1#', 'https://lichess.org/training/1taKR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tbzo', 'Bullet', 'shmatt', 1720, 'nigamaviwer', 1768, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nc6,Bb5,e6,Bxc6+,bxc6,O-O,Ne7,Re1,Nd5,d4,Bd6,Nxd5,cxd5,b3,O-O,c4,dxc4,bxc4,Bb4,Re2,Re8,a3,Ba5,Bb2,c5,Ne5,cxd4,Nc6,Qc7,Nxa5,Qxa5,Bxd4,Bb7,Qd3,Qg5,f3,Rad8,Re5,Qg6,Qe3,h6,Re4,Bxe4,fxe4,Qg5,Qc3,a6,c5,e5,Be3,Qg6,c6,Qxe4,c7,Rc8,Bb6,Qb7,Ba5,Re7,Rd1,Qb5,Rd8+,Re8,h3,Qb1+,Kh2,Qb5,a4,Qxa4,Qxe5,Kh7,Qf5+,g6,Qxf7+,Kh8,Rxe8+,Qxe8', 'Bc3+,Qe5+,Bxe5#', 'https://lichess.org/training/1tbzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tdtl', 'Classical', 'MTOE', 1823, 'serafyne9', 1862, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c4,Nd7,Nc3,Ne7,c5,b6,b4,a5,Ba3,axb4,Bxb4,bxc5,Bxc5,Nxc5,dxc5,Ng6,Bd3,Bxd3,Qxd3,Bxc5,O-O,Qc7,Rfe1,O-O,a4,Bb4,Reb1,Rfb8,Qc2,Nxe5,Nb5,Nxf3+,gxf3,Qd7,Rxb4,cxb5,Qb2,Qe8,axb5,Rxa1+,Qxa1,h6,b6,Qc6,Qb2,Rb7,h4,f6,h5,e5,Qb3,Kf7,Rb5,Qc4,Qb2,Ke6,Ra5,Qc6,Rb5,Kd6,Kg2,Kd7,Qb3,Qc4,Qb2,Kc6,Rb3,d4,Qa3,Qc5,Qa4+,Kd5', 'Rb5,Kd6,Rxc5', 'https://lichess.org/training/1tdtl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1THC4', 'Rapid', 'tax2478', 1880, 'nicolas1', 1793, 'e4,e6,Nf3,d5,exd5,exd5,Be2,c5,O-O,Nc6,Re1,Be7,d4,cxd4,Nxd4,Nf6,Bg5,O-O,c3,Qb6,Nxc6,bxc6,Bd3,Be6,b3,h6,Bh4,Bc5,b4,Be7,Nd2,a5,a3,axb4,cxb4,c5,bxc5,Qxc5,Bc2,Rxa3,Rc1,Qa7,Nb1,Ra1,Qd3,g6', 'Rxe6,fxe6,Qxg6+', 'https://lichess.org/training/1THC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tHCi', 'Blitz', 'CBpoet', 2122, 'NjoyVariants', 2149, 'f4,d5,Nf3,h6,e3,Qd6,d4,c6,Bd3,Bg4,Nbd2,g5,h3,gxf4,hxg4,fxe3,Nb3', 'Qg3+,Kf1,Qf2#', 'https://lichess.org/training/1tHCi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ThhV', 'Rapid', 'hvnieuwe', 1677, 'pvnieuwe', 1797, 'e4,c5,c3,g6,d4,cxd4,cxd4,d5,exd5,Nf6,Bc4,Nxd5,Bxd5,Qxd5,Nc3,Qxg2,Qf3,Bh3', 'Qxh3,Qxh3,Nxh3', 'https://lichess.org/training/1ThhV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ThK8', 'Blitz', 'CM ferchini', 2294, 'mahdimakaremi', 1954, 'd4,Nf6,Bf4,d5,e3,c5,Nd2,Nc6,c3,cxd4,exd4,e6,Ngf3,Nh5,Ne5,Nxf4,Nd3,Nxd3+,Bxd3,Bd6,O-O,O-O,Qh5,g6,Qh3,e5,Qh6,e4,Bc2,Qf6,g3,Re8,Bb3,Be6,f3,Bf8,Qe3,exf3,Qxf3,Qxf3,Nxf3,Bg4,Bxd5,Bxf3,Bxf3,Re3,Bd5,Re7,Rae1,Rae8', 'Bxf7+,Rxf7,Rxe8', 'https://lichess.org/training/1ThK8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tieA', 'Rapid', 'Ratuonuu', 1795, 'Dendra', 1756, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Bxf3,Bxf3,e6,Be3,Ne7,Nc3,Nf5,Bf4,Qb6,Ne2,Nc6,c3,Be7,Qd2,Nh4,O-O-O,Nxf3,gxf3,Na5,Rhg1,Nc4,Qc2,g6,Kb1', 'Na3+,Kc1,Nxc2', 'https://lichess.org/training/1tieA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tiXL', 'Rapid', 'Vytas2', 1877, 'carroman', 1883, 'd4,d5,c4,dxc4,e4,e5,d5,c6,Bxc4,cxd5,exd5,Qd6,Nc3,Nf6,Bg5,Be7,Nge2,O-O,O-O,Nbd7,Rc1,Nb6,Bb3,a6,Bxf6,Bxf6,Ne4,Qd8,Nxf6+,Qxf6,Ng3,Qd6,Qf3,f5,Rfd1,e4,Qc3,Bd7,h3,Rac8,Qd4,Rxc1,Rxc1,Rc8,Rxc8+,Nxc8,Nh5,Qg6,Nf4,Qh6,d6+,Kf8,Qc4,Nxd6', 'Qg8+,Ke7,Nd5#', 'https://lichess.org/training/1tiXL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1TIYv', 'Rapid', 'Richter75', 1862, 'Mimenxxx', 2180, 'e4,c5,Nc3,Nc6,Bc4,g6,d3,Bg7,Bb3,Nf6,Qf3,O-O,Nge2,d6,h4,h5,Qg3,Nd4,Nxd4,cxd4,Ne2,e5,Qxg6,d5,Qg3,dxe4,Bh6,Ng4,Bxg7,Kxg7,f3,exd3,fxg4,dxe2,gxh5+,Kh8,Qxe5+,f6,Qf4,Qa5+,c3,Qxh5,cxd4,Bg4,Rc1,Rac8,Rxc8,Rxc8,Qxf6+,Kh7,Kd2,Qh6+,Qxh6+,Kxh6,Bd5,Rd8,Bxb7', 'Rxd4+,Kc2,Rd1', 'https://lichess.org/training/1TIYv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tMEz', 'Rapid', 'savkidemir', 1855, 'Chessinpol', 2006, 'e4,d5,e5,e6,f4,g5,d3,gxf4,Bxf4,Bg7,Qg4,Bh6,Bxh6,Nxh6,Qg7,Rg8,Qxh6,Nc6,Qxh7,Qg5,Nd2,Nd4,O-O-O,Bd7,c3,Nf5,Nf3,Qg4,Be2,O-O-O,Qh3,Qa4,g3,Ne3,Kb1,Rh8,b3,Qa3,Qxh8,Rxh8,h4,Nxd1,Bxd1,a5,Nd4,a4,g4,axb3,Bxb3,c5,Nc2,Qa6,Rh3,b5,h5,c4,Nb4,Qa3,Nc2,Qa6,Nb4,Qb7,Bc2,cxd3,Bxd3,Qb6,Rf3,Qg1+,Kc2,Qxg4,Be2,Qxh5,Nd3,Qg6,Rf6,Qg7,Nc5,Rh2,Bd3,Rh5,Nf3,Qg2+,Kb3,Qg7,Nxd7,Kxd7,Bxb5+,Kc7,a4,Rf5,Rxf5,exf5,a5,Qg3,Nd4,Qxe5,a6,Kb6,a7,Qe1,a8=Q', 'Qb1+,Ka3,Qa1+', 'https://lichess.org/training/1tMEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tP3r', 'Classical', 'SJDJR', 1854, 'naravasuresh97', 1976, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,h6,d4,exd4,cxd4,Bb6,Be3,Qe7,Nc3,Nf6,Qc2,d6,a3,Bg4,Be2,Bxf3,Bxf3,Bxd4,Bxd4,Nxd4,Qa4+,Nc6,e5,Qxe5+,Ne2,Qa5+,Qxa5,Nxa5,Rc1,c6,Nd4,d5,Nf5,O-O,O-O,Rfe8,Rfd1,Nc4,Rc2,Ne5,Be2,Ng6,b4,Re6,b5,Nf4,Nd4,Re4,Bf3,Re5,bxc6,Rae8,Kf1,bxc6,Nxc6,R5e6,g3,Ng6,Nxa7,Ne5,Bg2,Nc4,Nb5,R8e7,a4,Re5,Nd4,Rc7,Nb5', 'Ne3+,fxe3,Rxc2', 'https://lichess.org/training/1tP3r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tQJI', 'Rapid', 'Tohuwabohu', 1877, 'Alex_Geo123', 1632, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Bc4,b5,Bb3,Ng6,d3,Bd6,a3,Nd4,Ba2,Bb7,Be3,c5,Nbd2,Qf6', 'Bg5', 'https://lichess.org/training/1tQJI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tqrT', 'Classical', 'Jiazhijie', 1812, 'fo_ra', 1669, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Bd7,Bc4,Qa5,O-O,Nc6,Be3,Ng4,Nxc6,bxc6,Bf4,e5,Bg3,Be7,Qd2,O-O,Rfe1,h6,h3,Nf6,Rad1,Ne8,Nd5,Qxd2', 'Nxe7+,Kh7,Rxd2', 'https://lichess.org/training/1tqrT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1TtOF', 'Rapid', 'hj1121', 1884, 'NarekExpert', 1908, 'd4,e6,e3,d5,Bd3,Nf6,Nd2,Bd6,f4,O-O,Ngf3,c5,c3,Nc6,Ne5,cxd4,exd4,Ne7,O-O,Ng6,Qf3,Nd7,g3,Ngxe5,fxe5,Be7,Bxh7+,Kxh7,Qh5+,Kg8,Nf3,f6,Nh4,fxe5,Ng6,Rxf1+,Kxf1,Nf6', 'Qh8+,Kf7,Nxe5#', 'https://lichess.org/training/1TtOF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1TtRg', 'Rapid', 'KingConqueror01', 1917, 'mikeraya', 2088, 'd4,Nf6,Bf4,e6,e3,c5,c3,d6,dxc5,d5,Nd2,Bxc5,Ngf3,O-O,Be2,Nc6,O-O,h6,h3,Bd6,Bxd6,Qxd6,Nc4,Qc7,Na3,a6,Nc2,b5,Ncd4,Bb7,Nxc6,Bxc6,Nd4,Bb7,Bf3,Nd7,Re1,Ne5,Be2,Rad8,Rc1,Qb8,Qd2,Nc4,Bxc4,dxc4,Qe2,Qe5,Rcd1,h5,Nf3,Qf6,Rxd8,Rxd8,Rd1,Rxd1+,Qxd1,Bxf3,Qxf3,Qxf3,gxf3,g6,Kg2,Kg7,Kg3,Kf6,Kf4,Ke7,Ke5,f6+,Kd4,Kd6,f4,g5,fxg5,fxg5,Ke4,a5,f3,b4,a4,bxa3,bxa3,a4,Kd4,g4', 'fxg4,hxg4,hxg4', 'https://lichess.org/training/1TtRg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tufP', 'Blitz', 'Inagaki', 1656, 'cursedcreww', 1682, 'd4,d5,Bf4,Nf6,Nf3,Nc6,e3,e6,h3,Bd6,Bh2,b6,Nc3,Bb7,Ne5,O-O,Nb5,Be7,c4,Nxe5,dxe5,Nd7,cxd5,exd5,Qc2,Bb4+,Kd1,Re8,a3,Nxe5,Bxe5,Rxe5,axb4,c6,Rxa7,cxb5,Rxb7,Rc8,Qb3,Qf6,e4,Qxf2,Bxb5,dxe4,Rf1,Qd4+,Ke2,Rxb5', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/1tufP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tvaj', 'Rapid', 'naukarus19', 1649, 'Gytisk', 1726, 'd4,Nf6,Nf3,e6,Bg5,Be7,e3,h6,Bh4,O-O,Bd3,d5,O-O,c5,c3,Nc6,Nbd2,cxd4,cxd4,Nb4,Bb1,Bd7,a3,Nc6,Qc2,Rc8', 'Bxf6,g6,Bxe7', 'https://lichess.org/training/1tvaj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tVTK', 'Rapid', 'Dieg', 1836, 'aberr', 1856, 'e4,e5,Nf3,d6,Nc3,g6,Bc4,Be7,O-O,Nf6,d4,exd4,Qxd4,O-O,Bg5,Nc6,Qd1,Nh5,Bxe7,Qxe7,Bd5,Ne5,Nxe5,Qxe5,f3,c6,Bb3,a5,a4,Be6,Bxe6,Qxe6,Qe2,Nf6,Rad1,Rfd8,f4,Qe8,Rfe1,Nh5,Qg4,Qd7,Qg5,Re8,e5,Qe6,exd6,Qd7,Rxe8+,Rxe8,g4,Nf6,f5,Ne4,Nxe4,Rxe4,fxg6', 'Rxg4+,Kh1,Rxg5', 'https://lichess.org/training/1tVTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tVzJ', 'Rapid', 'C21Chess', 2008, 'Alexxadrez32', 1990, 'd4,d5,Nc3,Bf5,Nf3,c6,e3,h6,Bd3,Bxd3,Qxd3,Nd7,O-O,e6,e4,dxe4,Nxe4,Ngf6,Bf4,Nxe4,Qxe4,Nf6,Qd3,Bd6,Ne5,O-O,Rad1,Bxe5,Bxe5,Nd7,Bd6,Re8,Qg3,f6,Rfe1,Nb6,Bc7,Qd7,Bf4,Kh7,Qd3+,Kg8,Qg6,Qf7,Qg3,Kh7,Bc1,Rac8,Re4,Nd7,Rde1,Nf8,Qd3,Qg6,Qb3,Rb8,Bf4,e5,dxe5,fxe5,Bxe5,Rbd8,Qxb7,Rd2,Bxg7', 'Rxe4,Bd4+,Kg8', 'https://lichess.org/training/1tVzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1TWCS', 'Rapid', 'Fantomasq', 1790, 'Mr_Shubhadeep', 1784, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,b5,O-O,Bb7,f3,Nc6,Nxc6,Bxc6,a4,b4,Na2,a5,Be3,Bxa4,Nc1,Bc6,Nb3,e5,Bc4,Be7,Qe2,O-O,Ra2,d5,exd5,Nxd5,Rd1,Qd7,Nc5,Bxc5,Bxc5,Rfd8,Qxe5,Qb7,Bd4,Nf6,Rxa5,Rxa5,Qxa5,Qb8,Qb6', 'Qxb6,Bxb6,Rxd1+', 'https://lichess.org/training/1TWCS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1txnQ', 'Rapid', 'compaluca', 1657, 'EvgenyIvanov', 1646, 'e4,e5,Bc4,Nf6,Nc3,Nc6,Nf3,Bc5,d3,a6,Be3,Bxe3,fxe3,d5,Nxd5,Nxd5,exd5,Na5,Nxe5,Nxc4,dxc4,O-O,Qf3,Qg5,Nd3,Bg4,Qf4,Qxf4,Nxf4,Rae8,Kd2,Re4,h3,Bd7,b3,Rfe8,Rhe1,b5,c5,b4,c6,Bc8,a3,Rd8,axb4,g5,Kd3,Bf5,Ne2', 'Rxd5+,Kc3,Rxe3+', 'https://lichess.org/training/1txnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1TZ48', 'Rapid', 'yehudac', 1791, 'Aeternum8', 1762, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,Bg5,e6,Qd2,Be7,cxd5,cxd5,g3,O-O,Bg2,Nc6,O-O,Bb4,a3,Be7,Rac1,h6,Bxf6,Bxf6,Rfe1,Bg4,Rcd1,Qb6,e3,Na5,Na4,Nc4,Nxb6,Nxd2,Nxa8,Nxf3+,Bxf3,Bxf3,Nc7,Bxd1,Rxd1,Rc8,Nb5,a6,Nc3,Be7,Rc1,b5,b4,a5,Na2,Rxc1+,Nxc1,axb4,axb4,Bxb4,Kf1,Kf8,Ke2,Ke7,Nd3,Bc3,Kd1,b4,Kc2,g5,Kb3,g4,Nxb4,Be1,Nd3,Ba5,Ka4,Bc7,Kb5,Bd8,Kc6,h5,Nf4,h4,gxh4,Kf8,h3,gxh3,Nxh3,Bxh4,Kd6,Ke8,Ke5,Ke7,Kf4,Kf6', 'Kg4,Bxf2,Nxf2', 'https://lichess.org/training/1TZ48');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1tZei', 'Blitz', 'jaspovic', 1965, 'kozmozwsp', 1893, 'd4,Nf6,Bf4,d5,e3,c5,Nf3,Nc6,c3,Qb6,Qb3,c4,Qc2,Bf5,Qc1,e6,Nh4,Bg4,f3,Bh5,Nd2,h6,g4,g5,gxh5,gxf4,exf4,Nxh5,Ng2,Bd6,b3,Nxf4,bxc4,Nxg2+,Bxg2,Bf4,cxd5,Nxd4,cxd4,Qxd4,dxe6,Bxd2+,Qxd2,Qxa1+,Kf2,Qe5', 'Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/1tZei');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1u7Bf', 'Classical', 'karavezirmati', 1710, 'YKK-29', 1688, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,Nc3,O-O,Re1,d6,h3,Rb8,d4,b5,Bxb5,Bd7,a4,Re8,Bxc6,Bxc6,dxe5,dxe5,Nxe5,Qxd1,Rxd1,Bxe4,Nxe4,Nxe4,Nc6,Rbc8,Nxe7+,Rxe7,Re1,Rce8,Be3,a6,c4,f5,Rad1,g5,Kf1,f4,f3', 'Ng3+,Kf2,Rxe3', 'https://lichess.org/training/1u7Bf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Ub82', 'Rapid', 'michaeltemporal', 1777, 'pramires', 1740, 'e4,Nf6,e5,Nd5,d4,d6,Bc4,Nb6,Bb3,c5,dxc5,dxc5', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/1Ub82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1uBXI', 'Classical', 'yeeYeeYee', 1767, 'LEONARDO65', 1756, 'd4,d5,Nf3,h6,Bf4,Bf5,h3,e6,Nbd2,Nf6,c4,c6,e3,Bd6,Bxd6,Qxd6,cxd5,exd5,Ne5,O-O,Qb3,Nbd7,Ndf3,Nxe5', 'dxe5,Qe6,exf6', 'https://lichess.org/training/1uBXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1udTY', 'Rapid', 'mihbell', 1788, 'Klim77', 1756, 'd4,e6,c4,b6,Nf3,Bb7,g3,Nf6,Bg2,d6,Bg5,Be7,O-O,h6,Bxf6,Bxf6,e4,O-O,Nc3,Na6,e5,dxe5,Nxe5,Bxg2,Kxg2,c5,Nc6,Qc7,d5,Bxc3,bxc3,Rfe8,Qf3,Qd6,Rad1,Nc7,Rfe1,exd5,Rxe8+,Rxe8,cxd5,a5,c4,Na6,Na7,Nb4,Nb5,Qe5,a3,Nc2,d6,Rd8,Rd5', 'Ne1+,Kf1,Nxf3,Rxe5,Nxe5', 'https://lichess.org/training/1udTY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ue9A', 'Rapid', 'ToniLoup', 2049, 'naqy2020', 2014, 'd4,Nf6,c4,d5,Nf3,Bf5,g3,c6,Bg2,h6,O-O,e6,Nc3,Be7,Bf4,Nbd7,Re1,O-O,Nd2,Qb6,Qb3,Qxd4,Qxb7,Rab8,Bxb8,Rxb8,Qxc6,Qxd2,e4,Bc5,Re2,Qd4,exf5,Qxc4,fxe6', 'Bxf2+,Rxf2,Qxc6', 'https://lichess.org/training/1ue9A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1UeNA', 'Blitz', 'Vin2Troy', 1750, 'anildxb', 1816, 'd4,d5,c4,Nc6,Nc3,e6,e3,Nf6,Bd3,a6,Nge2,Nb4,O-O,Bd7,cxd5,exd5,Bb1,Be7,a3,Nc6,b4,b5,Bb2,O-O,Ba2,Be6,Rc1,Na7,Nf4,c6,Nxe6,fxe6,e4,Kh8,e5,Ne4,Nxe4,dxe4,Bxe6,Bg5,Rc2,e3,f3,Qe7,Ba2,Rad8,Qe2,Bh6,Bb1,Qe6,Qd3,Qg6,Qe2,Qg5,Rc5,Rd5,Qd3,g6,Ba2,Rxc5,dxc5,Qd8,Qc3,Bg7,Qxe3,Re8,f4,Nc8,Bb3,Ne7,Rd1,Nd5,Qf3,Rf8,Bxd5,cxd5,Qxd5,Qh4,c6,Qxf4,c7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/1UeNA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1uHCw', 'Classical', 'Super_Tanya888', 2282, 'geartwo', 2061, 'e4,c5,Nf3,Nc6,Nc3,Nf6,d3,d5,exd5,Nxd5,g3,e5,Bg2,Nxc3,bxc3,Be7,O-O,O-O,h3,h6,Be3,Be6,c4,Qd7,Kh2,Rad8,Qc1,f5,Qa3,b6,Bd2,e4,Ne1,Bxc4,Bc3,exd3,cxd3,Bd5,Bxd5+,Qxd5,Qb3,f4,Qxd5+,Rxd5,g4,f3,a4,Bd6+,Kh1,h5,Rg1,hxg4,Rxg4,Rh5', 'Rxg7+,Kh8,Rg5+,Kh7,Rxh5+', 'https://lichess.org/training/1uHCw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1uj52', 'Blitz', 'vilmars', 1515, 'vgjokaj', 1554, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,g6,c3,Bg7,Bd3,O-O,Nbd2,Re8,Qc2,Ne4,Nxe4,dxe4,Bxe4,Na5,h4,h5,Ne5,Rb8,g4,Bxg4,Nxg4,hxg4,h5,f5,h6,Bf6,Bxf5,gxf5,Qxf5,Rf8,Be5,Qd5,Qg6+,Kh8', 'Bxf6+,Rxf6,Qg7#', 'https://lichess.org/training/1uj52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ukwo', 'Rapid', 'ahmedd99', 1934, 'khakan786', 1914, 'Nf3,e6,g3,d5,Bg2,g6,O-O,Bg7,d3,Ne7,Nbd2,O-O,e4,b6,Re1,Bb7,e5,c5,c3,Nbc6,Nf1,d4,h4,Nf5,N1h2,h6,Bf4,Qd7,Qd2,Rad8,Rad1,Nce7,g4,dxc3,bxc3,Nxh4,Nxh4,Bxg2,Nxg2,Qd5,c4,Qd7,Bxh6,Nc6,Bxg7,Kxg7,Qg5,Rh8,Nf4,Rh7,Kg2,Rdh8,Rh1,Nd4,Nh5+,Kf8,Nf6,Qc6+,Ne4,Rxh2+,Rxh2,Rxh2+,Kg3,Rh7,f4,Qa4,Qd8+,Qe8', 'Qxe8+,Kxe8,Nf6+,Ke7,Nxh7', 'https://lichess.org/training/1ukwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1UMQz', 'Blitz', 'nicotiraboschi', 2095, 'santhunder', 1985, 'e4,c5,d4,cxd4,c3,d3,Bxd3,e6,Nf3,Nc6,O-O,Qc7,Qe2,h5,a4,Nf6,e5,Ng4,Re1,d6,exd6,Bxd6,h3,Bc5,hxg4,hxg4,Ne5,g3,Ng4,gxf2+,Nxf2', 'Qh2+,Kf1,Qh1+,Nxh1,Rxh1#', 'https://lichess.org/training/1UMQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1uSTI', 'Rapid', 'emss', 1824, 'njaijagadish', 1797, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,c4,Ba6,Nc3,Bb4,Bd2,Nf6,Be2,Bxc3,Bxc3,Nxe4,Bb4,c5,Ba3,O-O,O-O,d6,Qd5,Nf6,Qc6,Qc8,Qa4,Bb7,b4,Ng4,bxc5,dxc5,Rad1,e4,Rb1,e3,Rxb7', 'exf2+,Rxf2,Nxf2', 'https://lichess.org/training/1uSTI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ut2d', 'Rapid', 'PN1989', 2048, 'karlikp', 1941, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,Be3,O-O,g4,Nc6,g5,Ne8,h4,Nxd4,Qxd4,b5,O-O-O,Bb7,Rdg1,e5,Qd2,Kh8,h5,f5,gxf6,Nxf6,f3,Rc8,Qg2,Ne8,Bh6,gxh6', 'Qg8+,Rxg8,Rxg8#', 'https://lichess.org/training/1ut2d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1UXwm', 'Rapid', 'SYNTAXERROR', 1705, 'korosh19', 1655, 'd4,e6,e3,d5,Bd3,Nf6,Nf3,Ne4,Nbd2,f5,Ne5,Bd6,Qh5+,g6,Nxg6,Rg8,Ne5+,Rg6,Nxg6,hxg6,Qxg6+,Kd7,O-O,Qh8,Qf7+,Kc6,Nf3', 'Ng5,Qe8+,Qxe8', 'https://lichess.org/training/1UXwm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Uy1h', 'Rapid', 'alaadoba', 1659, 'MrSuarez10', 1669, 'h3,e5,e4,d5,d3,d4,c3,dxc3,bxc3,Nf6,Be2,Bd6,Be3,Nc6,Nf3,O-O,Qc1,Be6,c4,Nd4,Nxd4,exd4,Bxd4,Bb4+,Nd2,Qxd4,O-O,Bxd2,Qxd2,Qe5,Qb4,Qg5,Kh1,Nh5,Qxb7,Nf4,Bf3,Bxh3,gxh3,Nxh3,Qxc7,f5,Qg3,Qh6,Bg2,Nf4+,Qh2,Qg5,exf5,Rf6,Bxa8,Rh6,Rg1,Rxh2+,Kxh2', 'Qh4#', 'https://lichess.org/training/1Uy1h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1UYMX', 'Blitz', 'AGJ23', 1631, 'brobi1', 1686, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nb3,g6,Nc3,e6,Be3,Qc7,Qd2,Bg7,O-O-O,a6,Be2,b5,a3,Ne5,f3,Nc4,Bxc4,Qxc4,Bd4,e5,Bc5,a5,Qd5,Qxd5,Rxd5,Bb7,Rxd7,Kxd7,Bb6,Ne7,Nc5+,Kc8,Nxb5,Ba6', 'Nd6+,Kb8,Nd7#', 'https://lichess.org/training/1UYMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1v4BD', 'Rapid', 'Vickitaly', 1845, 'Barbareek', 2122, 'e4,d5,exd5,Nf6,d4,Bg4,Nf3,Bf5,c4,e6,dxe6,Bb4+,Nc3,Nc6,exf7+,Kxf7,Be2,Ne4,O-O,Bxc3,bxc3,Nxc3,Qd2,Nxe2+,Qxe2,Nxd4,Ng5+', 'Qxg5,Bxg5,Nxe2+', 'https://lichess.org/training/1v4BD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1v4TN', 'Rapid', 'Zavala229', 1836, 'criskanopf', 1728, 'e4,c5,Nf3,d6,Bb5+,Nc6,d4,cxd4,Nxd4,Bd7,Nc3,a6,Ba4,b5,Nxc6,Bxc6,Bb3,e6,O-O,Nf6,Bg5,Be7,e5,dxe5,Qxd8+,Rxd8,Rfe1,e4,Bxf6,Bxf6,Nxe4,Bxe4,Rxe4,Bxb2,Rae1,O-O,Kf1,Rd2,R4e2,Rxe2,Rxe2,Rd8,g3,e5,c4,bxc4,Bxc4,Bd4,Bxa6,f6,Bb7,Rb8,Bd5+,Kf8,a4,h6,a5,Rb5,Bf3,Rxa5,Bh5,Ra3,Bg6,Ra1+,Kg2,Rd1,h4,Ra1,h5,Ra5,g4,Ra4,Bf5,Ke7,f4,Kd6,fxe5+,Bxe5,Rd2+,Ke7,Rd7+,Kf8,Be6,Rd4,Rf7+,Kg8,Rxf6+,Kh7,Bf5+,Kg8,Re6,Bf6', 'Re8+,Kf7,Bg6#', 'https://lichess.org/training/1v4TN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1V53X', 'Blitz', 'Repetto94', 2133, 'sumitdr', 2034, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,Nf6,Qd2,Be7,O-O-O,O-O,f3,Qc7,g4,b5,h4,Bb7,h5,Rfc8,g5,Ne8,g6,fxg6,hxg6,h6,Bxh6,Nxd4,Bxg7,Nxg7,Rh8+,Kxh8', 'Qh6+,Kg8,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/1V53X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vaoV', 'Rapid', 'akbar55', 1653, 'ivan3577', 1653, 'd4,Nf6,c4,d5,Bg5,dxc4,Bxf6,exf6,e4,Bd7,Bxc4,Bb4+,Nc3,Qe7,Ne2,f5,O-O,fxe4,Qb3,O-O,a3,Bxc3,Nxc3,Re8,Qxb7,Nc6,Rfe1,Rab8,Qxc7,Rec8,Qf4,Nxd4,Rxe4,Ne6,Bxe6,Bxe6,Rae1,Rxb2,Qg3,Rc2,Nd5,Qb7,Nf6+,Kf8,Nxh7+,Ke7,Qxg7,Qxe4,Qf6+,Ke8,Qh8+,Ke7,Qf6+,Kd6,Rd1+,Kc6,Ng5,Rd2', 'Qc3+,Kb7,Qxd2', 'https://lichess.org/training/1vaoV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vAxU', 'Blitz', 'CM FdoVzla1986', 2390, 'bulatte', 2223, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,c5,g3,Nc6,Bg2,Be7,O-O,O-O,Re1,b6,e5,Nd7,Nf1,Re8,h4,Nf8,Bf4,b5,N1h2,Bb7,h5,h6,Ng4,Nh7,Qd2,Bf8,a4,a6,Ne3,c4,axb5,axb5,Rxa8,Bxa8,d4,b4,Ra1,Qb6,c3,bxc3,bxc3,Na5,Ng4,Nb3,Rb1,Nxd2,Rxb6,Nxf3+,Bxf3,Be7,Bd1,Bg5,Ba4,Rd8,Ne3,Be7,Nc2,Ng5,Bxg5,Bxg5,f4,Be7,g4,Kf8,f5,Bg5,fxe6,f6,Bd7,fxe5,dxe5,d4,cxd4,Be4,Na3,Be3+,Kf1,Bxd4,Rd6,Bxe5,Rd1,Bd3+,Ke1,Bg3+,Kd2,Ra8,Nb5,Ra2+,Kc3,Rc2+,Kb4,Rb2+,Kc5,Bf2+,Kd5,Ke7,Nd6,Be2', 'Nf5+,Kf6,e7', 'https://lichess.org/training/1vAxU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1VBdz', 'Rapid', 'egfgf', 1754, 'livemango', 1735, 'd4,c5,e3,cxd4,exd4,d5,Nf3,e6,Bf4,Nc6,c3,Nf6,Bd3,Bd6,Bg3,Bxg3,hxg3,Bd7,Nbd2,Qb6,Qc2,O-O-O,O-O-O,Ne7,Ne5,Rhf8,Nxd7,Rxd7,Nb3,Nc6,f4,Rc7,Kb1,Ng4,Qe2,f5,Nc5,Nd8,Rxh7,Nf6,Rhh1,Ne4,Bxe4,fxe4,Rh7,Qc6,Rdh1,b6,Nb3,Nb7,Qg4,Rg8,Rh8,Rxh8,Rxh8+,Nd8,Rg8,Qd7,Qg6,Kb7,Na1,a5,Nc2,Nc6,Ne3', 'Ne7,Rxg7,Nxg6,Rxd7,Rxd7', 'https://lichess.org/training/1VBdz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vDSE', 'Blitz', 'Joker2512', 2077, 'sophiameister', 2256, 'd4,d5,c4,Nc6,Nf3,Bg4,Nc3,e6,cxd5,exd5,Bf4,Bxf3,gxf3,Bb4,Bg2,Nf6,O-O,O-O,e3,Nh5,Bg3,Nxg3,hxg3,Bxc3,bxc3,Na5,f4,Nc4,Rb1,Rb8,Re1,c6,Bf3,Qa5,Qc2,Na3,Qd3,Nxb1,Rxb1,Qxa2,Kg2,Qa3,Rh1,g6,f5,Qd6,e4,dxe4,Qxe4,Rfe8,Qh4,h5,Qg5,Qe7,f6,Qd8,Rxh5,Re6', 'Rh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/1vDSE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vF23', 'Rapid', 'Agusjaquemate280', 1947, 'alexanderpc', 1810, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bg4,e3,Bxf3,Qxf3,Na6,Bd3,Nb4,Qe2,Nxd3+,Qxd3,e6,O-O,Bb4,a3,Bxc3,Qxc3,Qc7,cxd5,Ng4,f4,exd5,h3,Nf6,b4,Ne4,Qc2,Ng3,Rf3,Ne4,b5,O-O,a4,Nd6,Ba3,Nc4,Bxf8,Rxf8,bxc6,bxc6,Rc1,Rb8,e4,Rb2,Qc3,Qd7,exd5,cxd5,Rf2,Rxf2,Kxf2,Qxa4,Rb1', 'Qa2+,Rb2,Qxb2+,Qxb2,Nxb2', 'https://lichess.org/training/1vF23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vgPy', 'Rapid', 'DogukanAslan1998', 1864, 'prostom', 1813, 'd4,d5,Nf3,Bf5,Bf4,e6,h3,h6,e3,a6,Bd3,Be4,Bxe4,dxe4,Nfd2,f5,Nc3,Bd6,Bxd6,cxd6,Qh5+,Kd7,d5,Nf6,Qf7+,Qe7,dxe6+,Kd8,Nc4,Rf8,Qxe7+,Kxe7,O-O-O,Nc6,Rxd6,Nd8,Rhd1,Nxe6,Nd5+,Nxd5,R1xd5,Kf6,Ne5,Rfd8,Nd7+,Ke7,Rd1,Nc5,Nb6,Rxd6,Rxd6,Kxd6,Nxa8,Kc6,b4,Nd7,a4,b5,a5,Kb7,Nb6,Nxb6,axb6,Kxb6,c3,Kc6,Kb2,Kd5,Kb3,g5,g4,f4,Kc2,Kc4,Kd2,Kb3', 'exf4,gxf4,h4', 'https://lichess.org/training/1vgPy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vjDi', 'Rapid', 'oquzlar', 1952, 'orionchess', 1984, 'e4,e5,c4,Bc5,d3,Nc6,Be2,h6,Nc3,Nf6,Nf3,d6,O-O,O-O,a3,a6,h3,Nh7,Be3,Ba7,Bxa7,Rxa7,Nd5,f5,exf5,Bxf5,Nd2,Nd4,Ne4,Bxe4,dxe4,Nf6,Bg4,Nxe4,Qd3,Nf6,Nxf6+,Qxf6,Rad1,c5,b4,b6,Rb1,cxb4,axb4,Rc7,Rbd1,Qg5,c5,bxc5,bxc5,Rxc5,Qxa6,Rc6,Qa2+,Kh8,Qd5,Rb6,Rd3,Qe7,Bf3,Qe6', 'Rxd4,Qxd5,Rxd5', 'https://lichess.org/training/1vjDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vJIl', 'Bullet', 'FM Oleg_Papayan', 2607, 'GM IGMGataKamsky', 2651, 'e4,e5,Nf3,d6,d4,Nd7,dxe5,dxe5,Bc4,h6,Qd5,Qe7,Nc3,c6,Qd3,Ngf6,Be3,Nc5,Qe2,Ncxe4,Nxe4,Nxe4,O-O-O,Bf5,Bd3,Bh7,Rhe1,O-O-O,Bxa7,f5,Bxe4,fxe4,Rxd8+,Qxd8,Nxe5', 'Qg5+,Qd2,Qxe5', 'https://lichess.org/training/1vJIl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Vl0w', 'Rapid', 'akbar55', 1711, 'Myter', 1708, 'd4,c5,c4,Nc6,d5,Ne5,Bf4,Nxc4,e4,Nb6,Nc3,Nf6,Bb5,a6,Ba4,Nxa4,Nxa4,Qa5+,Nc3,d6,Ne2,Nxe4,O-O,Qb4,a3,Nxc3,axb4,Nxd1,Raxd1,cxb4,Nd4,g6,Bg5,Bg7,Rfe1,f6,Bh4,g5,Bg3,h5,h3,Kd7,Nf5,Rg8', 'Rxe7+,Kd8,Rxg7,Rxg7,Nxg7', 'https://lichess.org/training/1Vl0w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vlPn', 'Blitz', 'Anakine', 2226, 'MishaaTal', 2206, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Nf3,Nc6,Bc4,e6,cxd4,d6,O-O,Nb6,Bb3,Be7,Nc3,O-O,Qe2,dxe5,dxe5,Bd7,Rd1,Qc7,h4,Rfd8,Bc2,Nb4,Bb1,N6d5,Qe4,g6,h5,Nxc3,bxc3,Qxc3,hxg6,hxg6,Bg5,Bxg5,Nxg5,Bc6,Rxd8+,Rxd8,Qf4,Rd7,Bxg6,Qxa1+,Kh2,fxg6,Qf6,Qxa2,Nxe6,Qd5', 'Qf8+,Kh7,Ng5#', 'https://lichess.org/training/1vlPn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1VMlP', 'Rapid', 'abersigas2050', 1774, 'aam66', 1782, 'd4,d5,Bf4,e6,Nf3,h6,h3,Nf6,e3,Bd6,Ne5,O-O,Bd3,Nbd7,Nd2,Bxe5,dxe5,Ne8,Qg4,g5,h4,f5,exf6,Ndxf6,Qg3,Nh5,Qg4,Nxf4,exf4,Rxf4,Qg3,e5,hxg5,Rg4,Qh3', 'Re4+,Bxe4,Bxh3', 'https://lichess.org/training/1VMlP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vpNX', 'Blitz', 'gmarkov1', 2043, 'Lexman661', 2065, 'e4,c5,Nf3,g6,Bc4,Bg7,c3,e5,O-O,Nc6,d4,cxd4,Ng5,Nh6,cxd4,exd4,Nf3,O-O,Bxh6,Bxh6,Nxd4,Bg7,Nxc6,dxc6,Nc3,b5,Bb3,a5,Qe2,a4,Bc2,Qe7,a3,Be6,Rad1,Rad8,h3,Bc4,Bd3,Bxd3,Rxd3,Rxd3,Qxd3,Rd8,Qe2,Bxc3,bxc3,Qxa3,e5,Qxc3,e6,Re8,exf7+,Kxf7,Qg4,Re6,Qf4+,Qf6,Qh6,Kg8,Rd1,Rd6,Re1,Qf8,Qh4,Qd8,Re7,Rd1+,Kh2,Qd6+,g3,h5,Qe4,Rd4,Qe3,Qf6,Rc7,Rd8,Kg2,Rf8,h4,a3,Qb3+,Kh8,Qe3,a2', 'Qh6+,Kg8,Qh7#', 'https://lichess.org/training/1vpNX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1VPPX', 'Rapid', 'Arcaduz', 1644, 'aownimran', 1693, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Bg4,Be2,Nbd7,O-O,O-O,h3,Bxf3,Bxf3,e5,d5,a6,Be3,b6,Qd2,Ne8,Bh6,f5,Bxg7,Nxg7,Bd1,Nc5,b4,Nxe4,Nxe4,fxe4,Bc2,Rf4,Rae1,e3,fxe3,Rxc4,e4,Rd4,Qf2,Qe7,a3,Rf8,Qe2,Nh5,Qe3,Nf4,Bd1,Rd3,Qc1,Qg5,Bg4,h5,Be6+,Kh7,Rf2,Nxh3+,Bxh3,Qxc1,Rxc1,Rxf2,Kxf2,Rxa3,Rxc7+,Kh6,Rc6,Ra2+,Ke3,b5,Rxd6,Ra3+,Kd2,Ra4,Kc3,a5,Ra6', 'axb4+,Kb3,Rxa6', 'https://lichess.org/training/1VPPX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1VQzd', 'Rapid', 'syd79', 1791, 'srini_vasv', 1750, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,Be7,O-O-O,O-O,h4,Re8,h5,Ng4,h6', 'Bxg5+,Nxg5,Qxg5+', 'https://lichess.org/training/1VQzd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vRWw', 'Rapid', 'marinachka', 2059, 'sycomore', 1756, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb4+,Nbd2,Na5,Bd3,d5,O-O,dxe4,Nxe4,Ne7,a3,Bd6,Qa4+,Nac6,Nxd6+,Qxd6,Re1,O-O,Bb2,Nd5,Qc2,h6,Ne5,Nce7,Nc4,Qc6,Qd2,Bf5,Bxf5,Nxf5,Ne5,Qa4,Bc3,Rfe8,Qd3,Nxc3,Qxf5,Re7,Qd3,Nd5,Rac1,Rae8,g3,f6,Nf3,Qa5,Rxe7,Rxe7', 'Rc5,Qa4,Rxd5', 'https://lichess.org/training/1vRWw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1VUG8', 'Blitz', 'dorsa11', 1781, 'sana_85', 1842, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Bg5,h6,Bh4,g5,Bg3,d6,Bc4,Be6,Bxe6,fxe6,O-O,Qe7,a4,a5,Qe2,O-O-O,e5,Nxe5,Bxe5,dxe5,Qxe5,Ng4,Qg3,h5,Nb5,Nh6,c4,h4,Qe5,Ng4,Qe2,Nf6,c5,Bxc5,Nxc5,Qxc5,Rac1,Qb6,Nxc7,Kb8,Qe5,Nd7,Qxe6,Qxb2,Rb1,Qf6,Qe4,Nc5,Qc4,Kxc7,Qxc5+,Qc6,Qxa5+,Kb8,Rfc1,Qg6,Rxb7+,Kxb7', 'Rc7+,Kb8,Qa7#', 'https://lichess.org/training/1VUG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1VVNt', 'Blitz', 'Bloody_Good_Knight', 1931, 'fekioh', 1893, 'e4,e6,d4,b6,c3,Bb7,Bd3,Nf6,Qc2,c5,Bg5,h6,Bxf6,gxf6,Nf3,Rg8,g3,f5,Ne5,fxe4,Bxe4,Qc7,Nd2,d5,Bg2,cxd4,Ndf3,dxc3,bxc3,Na6,O-O,Nc5,Rac1,Rc8,Rfe1,Ne4,Qd3,Nxc3,Rxc3,Qxc3,Qb5+,Ke7', 'Qd7+,Kf6,Qxf7#', 'https://lichess.org/training/1VVNt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vW3q', 'Rapid', 'bagherkhan', 1734, 'nerviko77', 1702, 'e4,e5,Bc4,Nf6,d3,Nc6,a3,d5,exd5,Nxd5,c3,a6,Qb3,Be6,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/1vW3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1vxZR', 'Rapid', 'vwfahren', 1955, 'Quaranbored', 1819, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bg5,Be7,Bf4,Bb4+,Nc3,Qe7,e3,Ngxe5,Nxe5,Nxe5,Be2,d6,Bxe5,Qxe5', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/1vxZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1w00g', 'Rapid', 'gewel', 1824, 'doktorkeks42', 1994, 'e4,c5,f4,e6,Nf3,a6,d4,cxd4,Qxd4,Qc7,Be3,Qxc2,Bd3,Qc7,O-O,Nc6,Qc3,b5,Nbd2,Bb7,e5,Rc8,Ne4,b4,Qb3,Na5,Qd1,Bxe4,Bxe4,Bc5,Bxc5,Qxc5+,Kh1,Ne7,Rc1,Qxc1,Qxc1,Rxc1,Rxc1,Nac6,Ng5,h6,Bxc6,Nxc6,Ne4,O-O,Nc5,Rd8,Nxa6,Ra8,Nc5,Rxa2,Nxd7,Rxb2,h3,Nd4', 'Rc8+,Kh7,Nf8+', 'https://lichess.org/training/1w00g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1w3Fc', 'Rapid', 'sygaco28', 2098, 'sebloun', 2052, 'e4,e6,d4,d5,e5,c5,c3,Qa5,dxc5,Qxc5,Be3,Qc7,f4,Bc5,Qd2,Ne7,g4,Qb6,Bxc5,Qxc5,Nf3,Bd7,Na3,Nbc6,Bd3,a6,Nd4,Nxd4,cxd4,Qxd4,Rc1,Qb6,Ke2,O-O,h4,f6,Rhf1,Ng6,h5,Nxf4+,Rxf4,fxe5,Rff1,e4,Bb1,e5,Qxd5+,Be6,Qxe4,Qxb2+,Rc2,Qxa3,Rd2,Bxg4+,Qxg4,Rxf1,Kxf1,Qc1+,Rd1,Rf8+,Kg1,Qc5+,Kh2,Rf2+,Kh3', 'Qe3+,Qg3,Rf3,Rd8+,Kf7', 'https://lichess.org/training/1w3Fc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1W4Df', 'Classical', 'OlegNK', 1698, 'ardaozkurt', 1748, 'd4,d5,e3,Nf6,Be2,g6,Nf3,Bg7,O-O,O-O,Nc3,Bf5,Ne5,Nbd7,f4,c6,Bd3,Ne4,Bxe4,dxe4,Nxd7,Qxd7,d5,Bxc3,bxc3,Qxd5,Qe2,h5,Ba3,Bg4,Qf2,Rfe8,h3,Bf5,Rad1,Qxa2,Bb4,b6,Ra1,Qe6,Qh4,a5,Ba3,c5,Kh2,Qc4,g4,hxg4,hxg4,Bd7,f5,Qxc3,Rae1,Qxa3,fxg6,fxg6,Qh6,c4,Qxg6+,Kh8,Qh5+,Kg8,Rf7,Qd6+,Kg2,Qd2+,Kf1,Bf5,Qxf5,Qh2', 'Qg6+,Kh8,Qg7#', 'https://lichess.org/training/1W4Df');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1WaO1', 'Rapid', 'GOAT11', 2043, 'hseyn2306', 2116, 'g3,d5,Bg2,e5,d3,c5,e4,d4,f4,Nc6,Ne2,Nf6,O-O,Be7,fxe5,Nxe5,Bf4,Ng6,Bg5,O-O,Nd2,h6,Bxf6,Bxf6,Nf3,Bg4,Nf4,Ne5,h3,Bxf3,Bxf3,Nxf3+,Qxf3,Be5,Kg2,Bxf4,gxf4,Qb6,b3,Rae8,f5,Qf6,Kf2,Qg5,Ke2,Qf6,Rg1,Kh8,Rg2,b5,Rag1,Rg8,Qh5,c4,Rc1,a5,Qf3,Rc8,Rgg1,Rc5,Kf2,Rgc8,Qf4,cxd3,cxd3,Rxc1,Rxc1,Rxc1,Qxc1,Qh4+,Kg2,Qh5,Qd2,b4,Qf2,Qg5+,Kh2,Qf6,Qf4,Qc6,f6,Qc2+,Kg1,Qd1+,Qf1,Qxf1+,Kxf1,gxf6,Kf2,Kg7,Kf3,Kg6,Kf4,Kh5', 'Kf5,Kh4,Kxf6', 'https://lichess.org/training/1WaO1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1WB3H', 'Blitz', 'Kernel17', 1714, 'K-Dosq', 1748, 'e4,d5,exd5,c6,d4,cxd5,Nf3,Nf6,Bf4,Nc6,c4,Bg4,c5,e6,Nc3,Bxf3,gxf3,Nh5,Qd2,Be7,Rg1,Nxf4,Qxf4,O-O,Qg4,Bf6,Bd3,Ne7,h4,Nf5,Bxf5,exf5,Qxf5,Re8+,Kd2,Rc8,Nxd5,Bxd4,Rg4,Bxc5,Rag1,g6,h5,Bxf2,hxg6,Qa5+,Kd1', 'Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/1WB3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Wf5t', 'Classical', 'Its_only_a_game', 1666, 'Sorah_CSL', 1737, 'e4,c5,Nc3,g6,g3,Nc6,Bg2,Bg7,Nge2,e5,O-O,Nge7,d3,d6,f4,Be6,fxe5,Bxe5,Bh6,Ng8,Bf4,Nd4,Bxe5,dxe5,Nxd4,cxd4,Nb5,Qb6,a4,a6,Na3,O-O-O,b3,Rf8,a5,Qb4,Nb1,Nh6,Bf3,f5,Ra4,Qd6,Qd2,f4,Rc1,Rf6,c4,Ng4,c5,Qc6,Rb4,Ne3,Rb6,Qd7,c6,Qg7,cxb7+,Kb8,Rxa6,Kxb7,Qb4+,Kxa6,Rc6+,Ka7,Qb6+,Ka8,a6,Rb8,Qc5,Qa7,Qd6,Re8', 'Rc7,Qxc7,Qxc7', 'https://lichess.org/training/1Wf5t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wFbr', 'Rapid', 'Keepthegroove', 1887, 'cassiuss', 1867, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Nc3,Bb4,Bd2,d6,Qf3,O-O,O-O,Bg4,Qe3,Bc5,Qg3,Be6,Bxe6,fxe6,Be3,Bb4,a3,Bxc3,bxc3,Nxe4,Qg4,Nf6,Qxe6+,Kh8,Bg5,Re8,Bxf6,Qxf6,Qxf6,gxf6,Rab1,Rab8,Rfd1,d5,g3,Rxb1,Rxb1,Re7,Rb8+,Kg7,a4,f5,a5,e4,a6,Kf6,Rb7,c5,Rb5,Rc7,Rb7,Re7,h4,h5,Kf1,d4,cxd4,cxd4,Ke2,Ke6,f3,e3,f4,Kd6,Rb4,Kc5,Rb7,Kd6,Rb5,Rc7,Rxf5', 'Rxc2+,Kd3,Rd2+', 'https://lichess.org/training/1wFbr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wg1V', 'Rapid', 'LewMyschkin85', 1905, 'Luis_fajardo', 1883, 'd4,e6,c4,Nf6,Nc3,c5,d5,exd5,Nxd5,Nc6,Bg5,Be7,Bf4,Nxd5,cxd5,Nd4,d6,Bf6,e3,Qa5+,Qd2,Nc2+,Kd1,Qxd2+,Kxd2,Nxa1,Bd3,Bxb2,Nf3,b5,Bxb5,Rb8,Bd3,O-O,Be5,f6,Bc4+,Kh8,Bc3,Re8,Rxa1,Bxa1,Bxa1,Rb1,Bc3,Bb7,Ne1,Be4,f3,Bg6,e4,f5,e5,Rf8,Bb3,Bf7,Kc2,Rxe1,Bxe1,Bxb3+,axb3,f4,Ba5,Rf5', 'e6,dxe6,d7', 'https://lichess.org/training/1wg1V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wIHT', 'Rapid', 'Touch_me_7', 1643, 'PHOENIX1989', 1655, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,Be7,d4,exd4,cxd4,a6,Ba4,b5,Bb3,Nf6,Nc3,h6,h3,O-O,Re1,Na7,Nd5,Nxd5,Bxd5,c6,Bb3,a5,e5,a4,Bc2,dxe5,dxe5,Nc8,Nd4,Nb6,Bf4,Nd5,Bg3,Bc5,e6,fxe6,Nxe6,Bxe6,Rxe6,Rc8,Kh1,Rf6,Rxf6,Qxf6,Qe1,Qxb2,Bf5,Rf8,Be6+,Kh8,Be5,Bxf2', 'Bxb2,Bxe1,Rxe1', 'https://lichess.org/training/1wIHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wKV7', 'Rapid', 'ranjs001', 1820, 'dakteacher', 1847, 'd4,d5,c4,Nf6,Nc3,e6,e3,Nc6,Nf3,Bd6,Bd3,O-O,O-O,Re8,Bd2,e5,cxd5,exd4,dxc6,dxc3,Bxc3,bxc6,Qc2,g6,Rfd1,Bg4,Be4,Nxe4,Ba5,Bxf3,gxf3,Qg5+,Kf1,Bxh2,fxe4,Qg1+,Ke2,Qg4+,Kf1,Rxe4,Qxc6,Rae8,Bxc7,Qf3,Bxh2,Qh1+,Ke2,Qxh2,Rd4,Rxd4', 'Qxe8+,Kg7,exd4', 'https://lichess.org/training/1wKV7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wlTd', 'Blitz', 'Yanuko', 1961, 'Jupitrer', 1880, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,O-O-O,c4,Qh5,d5,Nf6,Nc3,e6,Bf4,exd5,cxd5,Bb4,O-O,Nxd5,Nxd5,Rxd5,Qb3,Re8,h3,Rxe2,hxg4,Qxg4,Qxd5,Qxf4,Rad1,Bd6,Rfe1,Rxe1+,Rxe1,Ne7,Qb5,c6,Qh5,h6,Qh4,Ng6', 'Re8+,Kc7,Qd8#', 'https://lichess.org/training/1wlTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wmrS', 'Rapid', 'verdeckel', 2077, 'ilha09', 2078, 'e4,c5,Nf3,d6,c3,Nf6,Be2,Nc6,d4,g6,O-O,Bg7,d5,Nb8,Bg5,O-O,Bd3,Bg4,h3,Bxf3,Qxf3,Nbd7,Qe3,Ne5,Be2,Qb6,b3,a5,f4,Ned7,c4,Nxd5,exd5,Bxa1,Nc3,Bxc3,Qxc3,Nf6,Bh6,Rfe8,g4,a4,g5,Qb4,Qxb4,cxb4,gxf6,exf6,Bd1,axb3,Bxb3,Re3,Kg2,Rae8,f5,g5,h4,R8e4,hxg5,Rh4,Kf2,Ree4,Rg1,Kh8,Bf8,Rhf4+,Kg3,Rg4+,Kh2', 'Re2+,Kh3,Rxg1', 'https://lichess.org/training/1wmrS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wnxm', 'Blitz', 'ixoq21', 1915, 'hilati', 1940, 'd4,d5,Nf3,Nf6,Bf4,c6,e3,Bg4,Nbd2,e6,c3,Bd6,Bg3,Bxg3,hxg3,Nbd7,Be2,O-O,Qb3,Qb6,Qc2,Bf5,Qc1,Ne4,Nh4,Bg6,Nxg6,fxg6,Nxe4,dxe4,b3,Rf6,Qc2,Raf8,Bc4,c5,Qxe4,cxd4,exd4,Kh8,O-O-O,Qa5,Bxe6,Qxc3+,Kb1,Rxf2', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/1wnxm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Wqc0', 'Blitz', 'Habibiz', 1585, 'DarioZ', 1596, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nc6,Nf3,Nf6,e3,Bb4,Bd3,Bxc3+,bxc3,Ne4,Qc2,Qf6,Bxe4,dxe4,Qxe4+,Be6,d5,Qxc3+,Bd2,Qxa1+,Ke2,Qxh1,dxe6,O-O,exf7+,Rxf7,Ng5,Re7', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/1Wqc0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wQLQ', 'Blitz', 'tsiker', 1590, 'QuibsY', 1605, 'd4,d5,Bf4,Nf6,Nf3,Bg4,Nbd2,Nc6,e3,e6,c3,Bd6,Bg3,Bxg3,hxg3,O-O,Bd3,e5,dxe5,Nxe5,Qc2,Qe7,Nxe5,Qxe5,Nf3,Bxf3,gxf3,g6,O-O-O,Rac8,f4,Qe8,f5,g5,f4,g4,Rh6,Qe7,Kb1,Kg7,Rdh1,Qxe3,c4,Rce8,cxd5,Qxg3,a3,Re1+,Rxe1,Qxe1+,Ka2,Nxd5,Rh2,f6,Qc4,c6,Re2,Qg3,Re6,Nxf4,Re7+,Kh6,Rxb7,Nxd3,Qxc6,Rb8', 'Qxf6+,Kh5,Rxh7#', 'https://lichess.org/training/1wQLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wrhe', 'Rapid', 'Prabhu_Sundharam', 1786, 'ixlone', 1885, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,dxc4,e4,Bb4,Bxc4,Nxe4,O-O,Bxc3,bxc3,Nxc3,Qd3,Nd5,Ba3,Nc6,Rfe1,a6,Qe4,Nc3,Qg4,Qf6,Ne5,Nb5,Bb2,O-O,Rab1,Rd8,Nxc6,bxc6,Re4,e5,dxe5,Bxg4,exf6,Rd1+,Rxd1,Bxd1,f3,g6,Re7,Nd6,Bd3,Ra7,Ba3,Ra8,Rxc7,Nb5,Bxb5,cxb5,Kf2,a5,Bc1,b4,Ke1,Rd8,Bd2,Ba4,Ra7,Re8+,Kf2,b3,axb3,Bxb3,Rxa5,h5,g4,hxg4,fxg4,Re4,Kf3,Rd4,Bh6,Kh7,Bg7,Bd1+,Ke3,Rxg4,Ra8,g5,Rh8+,Kg6,Rh6+,Kf5,Rh8,Re4+,Kd3,Bb3,Rh3,g4,Rh5+,Kf4', 'Bh6+,Kf3,Rf5+,Kg2,Kxe4', 'https://lichess.org/training/1wrhe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Wrk6', 'Rapid', 'selbino', 1892, 'PrucyIyke', 1880, 'e4,e5,Nc3,Nf6,a3,Bc5,h3,Nc6,Bc4,d6,Ba2,Qe7,Nge2,Bd4,d3,Be6,b3,Nh5,O-O,Qf6,Kh1,Bxf2,Nd5,Bxd5,exd5,Nd4,Nxd4,exd4,Qxh5,O-O-O,Bg5,Qf5,Bxd8,Qxh5,Bxc7,Kxc7,Rxf2,f6,Re1,Qxd5,Rfe2,Rd8,Kg1,h5,Kh1,h4,c4,dxc3,b4,Qxd3,Bb1,Qd5,Be4,Qd4,Bf5,Kb8,Re7,Qd5,Be4,Qg5,Rxb7+,Kc8,Rxa7,Rd7,Ra8+,Kc7,Ra7+,Kd8,Ra5,Qd2,Rg1,c2,Ra8+,Ke7,Rc8,Qd4,Bxc2,Qf2,Bg6,Rd8,Rc2,Qd4,Re1+,Kd7', 'Bf5#', 'https://lichess.org/training/1Wrk6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1WtBX', 'Blitz', 'charmioff', 1801, 'stannenas', 1788, 'c4,e5,Nc3,Nf6,Nf3,Bc5,Nxe5,d6,Nf3,Bg4,d4,Bxf3,dxc5,Bc6,cxd6,O-O,dxc7,Qxc7,Bg5,Rd8,Qc2,Ne4,Nxe4,Bxe4,Qxe4', 'Qa5+,b4,Qxb4+,Bd2,Qxd2#', 'https://lichess.org/training/1WtBX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1WtMU', 'Blitz', 'FM RetiLangweiler', 2550, 'IM DMKey', 2545, 'e4,c6,Nf3,g6,Nc3,Bg7,d4,d6,h3,Nf6,Bd3,O-O,O-O,Nbd7,Re1,e5,Ne2,Re8,dxe5,dxe5,Ng3,Nc5,Bf1,Qc7,c3,Rd8,Qc2,Ne6,Be3,Nf4,Rad1,Be6,b3,a5,Ne2,a4,Nxf4,exf4,Bd4,axb3,axb3,Ra3,c4,Nh5,Bxg7,Nxg7,Rxd8+,Qxd8,Rd1,Qb6,Qd2,h6,Qxf4,Kh7,Qb8,Ra2,Rd8,Qxf2+,Kh2,g5,Rh8+,Kg6,Ne5+,Kh5,Rxh6+,Kxh6', 'Qh8#', 'https://lichess.org/training/1WtMU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wuz6', 'Rapid', 'a_abdelkhalek11', 2123, 'KovalyovArtyom', 2135, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,Nf3,Bg4,h3,Bh5,g4,Bg6,d3,e6,Bg5,Be7,Qd2,Nc6,a3,Nd4,Nxd4,Qxd4,O-O-O,O-O-O,Nb5,Qb6,Be3,Bc5,d4,Ne4', 'dxc5,Rxd2,cxb6', 'https://lichess.org/training/1wuz6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wVcc', 'Bullet', 'BryanJose', 2059, 'O-Dannyboy', 2017, 'd4,Nf6,Nf3,d5,c4,g6,e3,Bg7,Be2,O-O,O-O,dxc4,Bxc4,c5,dxc5,Qa5,Nc3,Qxc5,Bb3,Bg4,h3,Bxf3,Qxf3,Nc6,Bd2,Rad8,Rfd1,Qb6,Na4,Qc7,Rac1,Qb8,Bc3,Ne5,Qg3,Ne4,Rxd8,Qxd8,Qf4,Nd3,Qxe4,Nxc1,Bd5,b5,Bxg7,Kxg7,Nc5,Qd6,b4,e6,Bxe6,fxe6,Nxe6+,Kg8,Nxf8,Kxf8,Qa8+,Kg7,Qxa7+,Kh6,Qf7', 'Ne2+,Kh1,Qd1+,Kh2,Qg1#', 'https://lichess.org/training/1wVcc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1wwqc', 'Rapid', 'Dolphinfish', 1803, 'rt8619589413', 1805, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Nf6,d5,a6,Bxc6+,bxc6,dxc6,Nxe4,O-O,Bg4,h3,Bh5,Re1,Nc5,Qd5,Be7,Nc3,O-O,Ne4,Bxf3,gxf3,Nxe4,fxe4,Bh4,Be3,Qf6,Kh2,Bxf2', 'Rf1,Bxe3,Rxf6', 'https://lichess.org/training/1wwqc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1x1U3', 'Rapid', 'tip_top_train', 1714, 'maestro_ss', 1810, 'e4,c5,d4,d6,Bb5+,Bd7,Bxd7+,Qxd7,f3,Nc6,Ne2,O-O-O,O-O,Nf6,Na3,d5,exd5,Nxd5,g3,cxd4,c3,dxc3,bxc3,Ndb4', 'Qxd7+,Rxd7,cxb4', 'https://lichess.org/training/1x1U3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1X38u', 'Blitz', 'Twist3103', 2209, 'FM HustlinHarper', 2353, 'Nf3,Nf6,c4,c5,g3,a6,Bg2,e6,b3,Qc7,Bb2,Nc6,O-O,h5,h4,b6,d4,cxd4,Nxd4,Bb7,Nc3,Nxd4,Qxd4,Bc5,Qd3,Rh6,Na4,Bxg2,Kxg2,Bd6,Rad1,Qc6+,f3,Bc7,e4,Rg6,e5,Ng4,Rfe1,O-O-O,Kh3,Nh6,Qe4,Nf5,Qxc6', 'Rxg3+,Kh2,dxc6', 'https://lichess.org/training/1X38u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1x4ya', 'Rapid', 'Watermarkchess', 1916, 'natosil01', 1657, 'd4,c5,d5,d6,c4,e5,Nc3,h5,e4,f5,Bd3,f4,g3,g5,h4,Na6,hxg5,Qxg5,Nf3,Qg4,Rh4,Qg6,gxf4,exf4,Bxf4,Be7,Rh1,Bg4,Qe2,h4,O-O-O,h3,Rdg1,Qh5,Rg3,Bh4,Rxg4,Qxg4,Bxd6,Kd7,Rg1,Qh5,e5,Rf8,Nxh4,Qxe2,Bxe2,Rxf2,Rg7+,Ke8,Ng6', 'h2,Nxh8,h1=Q+', 'https://lichess.org/training/1x4ya');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1x51y', 'Bullet', 'mokrudirps', 1749, 'pium_noob', 1727, 'd4,d5,c4,e6,Nc3,Nf6,e3,c5,dxc5,Bxc5,cxd5,exd5,Nf3,Be6,Be2,Nc6,O-O,O-O,a3,Rc8,Nb5,a6,Nbd4,Nxd4,Nxd4,Ne4,f3,Nf6,b4,Ba7,Bb2,h5,Re1,h4,Kh1,h3,Nxe6,fxe6,Bd4,hxg2+,Kxg2,Bb8,h4,Nh5,Rh1,e5,Bc5,Qf6,f4,exf4,Bxh5,fxe3,Bxf8', 'Qf2+,Kh3,Qg3#', 'https://lichess.org/training/1x51y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1X5Ti', 'Rapid', 'SrSebas', 1895, 'Fengshan', 1797, 'd4,d5,c4,c6,Nc3,Nf6,e3,a6,Nf3,Bg4,cxd5,cxd5,h3,Bxf3,Qxf3,e6,a3,Nc6,b4,Be7,Bb2,O-O,Bd3,Re8,O-O,Bf8,Na4,e5,dxe5,Nxe5,Bxe5,Rxe5,Rac1,Rc8,Nc5,Ne4,Bxe4,dxe4,Nxe4,a5,Qf4,Rxc1,Rxc1,Rd5,bxa5,Rxa5,Rc7,Be7,Rxb7,Ra8,Ng5', 'Qd1+,Kh2,Bd6', 'https://lichess.org/training/1X5Ti');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1xa2w', 'Rapid', 'PawnSlider', 1603, 'lijoheru', 2036, 'e4,e5,Nf3,Nc6,a3,Nf6,Bd3,d5,exd5,Qxd5,Nc3,Qa5,Bb5,Bd7,Bxc6,Bxc6,O-O,Bd6,d3,O-O,Bg5,Nd7,b4,Qa6,Nd2,h6,Be3,f5,f3,Rad8,Bf2,Nf6,Ne2,b5,Ng3,Nd5,Nb3,Nc3,Qe1,Na4,Nh5,Bd5,Na5,Rde8,Ng3,c5,c3,Bc7,Nb3,Bxb3,bxc5,Qc6,Qc1,Nxc5,c4,Nxd3,Qc3,Bxc4,Bxa7,Bb6+,Bxb6,Qxb6+,Kh1,Nf2+,Rxf2,Qxf2,Re1,Qc5,Qc2,g6,Qc3,Rf7,Ne2,Ra7,Nf4,Rxa3,Qc2,Kf7,Rd1,exf4,Rd7+,Re7,Rxe7+,Kxe7,Qb2,Qd5,Qg7+,Qf7,Qe5+,Be6,Qc5+,Ke8,Qxa3,Bd7,Qa8+,Ke7,Qa3+,Kd8,Qa5+,Kc8,Qa6+,Kc7,Qa7+,Kc6,Qa8+,Kc5,Qa7+,Kc4', 'Qa2+,Kb4,Qxf7', 'https://lichess.org/training/1xa2w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1XA6h', 'Rapid', 'mustafaahmed1', 1689, 'capa1975', 1862, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e4,d6,Bd3,Nbd7,Be3,c5,d5,a6,a4,Qa5,O-O,Rb8,Qd2,Ng4,Bf4,Qb6,h3,Nge5,Bh6,Bxh6,Qxh6,Nxd3,Ng5,Nf6,e5,Nxe5,f4,Ned7,Nce4,Qxb2,f5,b5,fxg6,fxg6,Rxf6,Nxf6', 'Nxf6+,Rxf6,Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/1XA6h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1XBTE', 'Rapid', 'peromoron', 1856, 'apeoperaia', 1861, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,Bb5+,Nfd7,a4,Bg7,Nf3,O-O,Bg5,Qb6,Nd2,a6,Nc4,Qc7,Bxd7,Bxd7,Be7,Re8,Bxd6,Qd8,e5,Bf5,Bxc5,Bxe5,O-O,Qc7,Nxe5,Qxc5,Re1,Nd7,Nxd7,Bxd7,Ne4,Qb6,d6,Qxb2,Rb1,Qg7,Rxb7,Bc6,Rb4,Rad8,Rc4,Bxe4,Rcxe4,Rxe4,Rxe4,f5,Re7', 'Qxe7,Qb3+,Qf7', 'https://lichess.org/training/1XBTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1XcH6', 'Rapid', 'JankouD', 2138, 'mBehrooz', 2140, 'e4,e5,f4,exf4,Nf3,d5,exd5,Nf6,Bb5+,c6,dxc6,bxc6,Bc4,Bd6,d4,O-O,O-O,Bg4,Nc3,h6,h3,Bh5,Ne2,g5,c3,Re8,Kh1,Kg7,Bd3,Nbd7,c4,Bc7,Qc2,Nb6,b3,a5,Bb2,Nbd7,Rae1,Re7,Neg1,Rb8,Ba3,Rxe1,Rxe1,g4,Nh4,a4,Nf5+,Kh8,Be7,Qg8,Nxh6,Qg5,Nxg4,Bxg4,hxg4,Qxg4,Bf5', 'Qh4+,Bh3,Qxe1,Bxf6+,Nxf6', 'https://lichess.org/training/1XcH6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1XeD2', 'Rapid', 'DDiyong', 1941, 'Edwards113', 1931, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,Nf6,c3,Ne4,Nd2,Nxg3,hxg3,Nc6,Bd3,h6,f4,Bd7,Ngf3,Qf6,Ne5,Bxe5,fxe5,Qg5,Qf3,O-O-O,O-O-O,f6', 'Rh5,fxe5,Rxg5', 'https://lichess.org/training/1XeD2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1XfGD', 'Rapid', 'chessorglory', 1781, 'Aladinek', 1779, 'c4,f5,Nc3,Nf6,g3,e5,Bg2,Bb4,Nd5,Be7,Nxf6+,Bxf6,d3,O-O,Rb1,d6,Qc2,Nc6,a3,a5,e3,Kh8,Nf3,Qe8,O-O,Qh5,Bd2,Bd7,b4,axb4,axb4,Ne7,c5,d5,b5,g5,Bc3,Ng6,c6,bxc6,bxc6,Be6,Rb7,Rf7,Rfb1,Kg7,Rb8,Rxb8,Rxb8,g4,Ne1,e4,Bxf6+,Kxf6,Qc3+,Ne5,Qa5,exd3,Rb7,d2,Qxd2,Nf3+,Nxf3,gxf3,Bf1,Rg7,Qd4+,Kg6,Qf4,Qg4,Rxc7,Qxf4,Rxg7+,Kxg7,gxf4,d4,exd4,Bd5,Bb5,Kf6,h4,Ke7,Kh2,Kd6,h5,Bxc6,Bxc6,Kxc6,Kg3,Kd5,Kxf3,Kxd4,Kg3,h6,Kf3,Kd3,Kg3', 'Ke4,Kg2,Kxf4', 'https://lichess.org/training/1XfGD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1xLxX', 'Rapid', 'FerrodiCavallo2', 1846, 'ludvikK', 1800, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Qf3,Rb8,O-O,Be7,Nc3,Nf6,e5,Nd5,exd6,Qxd6,Ne4,Qg6,c4,Nb4,Bf4,Bd6,Nxd6+,cxd6,Rfe1+,Kd7,Rad1,Rhe8,c5,Rxe1+,Rxe1,Nd3,Qh3+,Kd8,Bxd6,Nxe1,Bxb8', 'Nf3+,Qxf3,Qb1+,Qd1+,Qxd1#', 'https://lichess.org/training/1xLxX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1xNRP', 'Rapid', 'vfg-93', 1791, 'omarsham', 1779, 'd4,e6,e4,Nf6,Bg5,Be7,Nc3,O-O,Nf3,Re8,Bd3,d6,O-O,e5,Bxf6,Bxf6,d5,c6,Qe2,cxd5,Nxd5,Bg5,Nd2,Bh6,c4,Qg5,f4,exf4,Rxf4,Nc6,Raf1,Nd4,Qf2,Ne6,Nf3,Qh5,Rh4,Qg6,Rh3,Nf4,Rg3,Nxd3,Qc2,Qxe4', 'Nf6+,Kh8,Nxe4', 'https://lichess.org/training/1xNRP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1XNtp', 'Blitz', 'accuizon', 2292, 'CM Alejandropacheco29', 2394, 'd4,Nf6,c4,e6,Nc3,Bb4,e4,Nxe4,Qg4,Bxc3+,bxc3,Nf6,Qxg7,Rg8,Qh6,Rg6,Qh4,Nc6,Nf3,b6,Bg5,Qe7,Bd3,Rxg5,Qxg5,Ba6,O-O,O-O-O,Rfe1,Rg8,Qh4,Bb7,g3,Na5,d5,d6,Bf5,Kb8,Nd4,e5,Bd3,Qd8,Nf5,Rg4,Qh3,Bc8,f3,Rg5,g4,h5,Qh4,Qg8,Ne7,Qg7,Nxc8,Kxc8,h3,hxg4,hxg4,Kb7,Kf2,e4,Bxe4,Nxc4,Rh1,Nxe4+,fxe4,Rxg4,Rhg1,Rg6,Rxg6,fxg6,Rc1,Ne5,Qg3,g5,Ke2,g4,Kd2,Qg5+,Kc2,Nc4,Qd3,b5,Rg1,Qf4,Qe2,g3,Kb3,a6,a4,Na5+,Kb4,Nc4,axb5,axb5,Kxb5,Nb6,c4,Qf7,c5,dxc5,Kxc5,Qe7+,Kb5,Nxd5,Qf3', 'Qb4#', 'https://lichess.org/training/1XNtp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1xoY6', 'Blitz', 'IM Alexandr_KhleBovich', 2684, 'GM BlueGreensun', 2680, 'd4,e5,Nf3,exd4,Nxd4,Nf6,c4,d5,cxd5,Bb4+,Bd2,Nxd5,Bxb4,Nxb4,Qa4+,N8c6,Nxc6,Nxc6,Nc3,O-O,Rd1,Qg5,e3,Bg4,Rd5,Bf5,h4,Qf6,Qf4,Ne7,Re5,Rad8,Rxe7,Qxe7,Qxf5,Qb4,Qc2,Rd6,a3,Qg4,Be2,Qxg2,Qe4,Qxe4,Nxe4,Rb6,b4,a5,b5,Rh6,h5,c6,a4,cxb5,Bxb5,Rc8,Kd2,Kf8,f4,Re6,Ng5,Rd6+,Ke2,Rc2+,Kf3,h6,Ne4,Rd8,Rb1,Rc7,Rb3,Ke7,Rc3,Rdc8,Rxc7+,Rxc7,f5,Rc1,f6+,gxf6,Ng3,Rc5,e4,Ke6,Kf4,Rg5,Be2,Ke7,Nf5+,Kf8,Nxh6,b5,axb5,a4,Nf5,a3,b6,Rg1,Bd3', 'a2,b7,Rb1', 'https://lichess.org/training/1xoY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1xqN5', 'Rapid', 'OdiseoM', 1617, 'teimurazgabunia', 1726, 'e4,e5,Nf3,d6,d4,f6,dxe5,dxe5,Bd3,Nc6,Nc3,Nb4,Nxe5,fxe5,Qh5+,g6', 'Qxe5+,Qe7,Qxh8', 'https://lichess.org/training/1xqN5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1xrYm', 'Rapid', 'smand009', 1826, 'Britvich', 1796, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Nc3,Be7,Be2,O-O,O-O,c5,dxc5,Bxc5,Nd4,Nc6,Nxc6,bxc6,Bf3,Re8,Bg5,Be7,Ne2,Rb8,Rb1,Ba6,Re1,h6,Bf4,Rc8,Nd4,c5,Nf5,Bf8,Rxe8,Qxe8,Bd6,Qd7,Bxf8,Rxf8,Ng3,Re8,Qd2,d4,Qa5,Qc8,h3,Nd7,Nf5,Re6,Bg4,Re5,Nd6,Qc6,Qd8+,Nf8,Nf5,Qd7', 'Nxh6+,gxh6,Bxd7', 'https://lichess.org/training/1xrYm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1xszw', 'Blitz', 'pabloche101', 2233, 'FM Cellini', 2437, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nc3,Bb4,Be2,d6,O-O,Nf6,Nf3,Qg4,Nd5,Nxd5,exd5,Ne7,Ng5,Qf5,Qd4,Bc5,Qxg7,Rg8,Qh6,Rg6,Qh4,Qxd5,Bc4,Qd4,Qxd4,Bxd4,Bxf7+,Kf8,Bxg6,hxg6,c3,Bb6,Re1,Bf5,Be3,Rc8,Bxb6,axb6,Re3,Nd5,Rf3,Kg7,Re1,b5,h3,Kf6,Ne4+,Kg7,Ng3,Bd7,Rd3,Bc6,Ne4,Re8,Kf1,Nf4,Rde3,Nd5,Rf3,Nb6,Rf4,Nc4,b3,Rxe4,Rfxe4,Nd2+,Ke2,Nxe4,f3,Nxc3+,Kd3,Nxa2,Re7+,Kf6,Rxc7,Nb4+,Kd4,Nd5,Rc8,Nf4', 'Rf8+,Kg5,h4+,Kxh4,Rxf4+', 'https://lichess.org/training/1xszw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1xXfY', 'Rapid', 'PLAYERR1', 1672, 'kostya72', 1697, 'd4,e6,c4,Nf6,Bg5,g6,Nc3,Bg7,e4,d6,Qc1,e5,d5,Nbd7,f4,O-O,Nf3,Nc5,Bxf6,Qxf6,fxe5,dxe5,Be2,b6,b4,Nb7,O-O,Qd6,a3,a5,Nb5,Qe7,Qg5,Bf6,Qh6,Bg7,Qg5,f6,Qe3,axb4,axb4,Rxa1,Rxa1,Qxb4,Nxc7,Nc5,Kf2,Bg4,Rc1,Nb3,Rb1,Bxf3,Rxb3,Qe7,Bxf3,Qxc7,Qxb6,Qxc4,Qe6+,Kh8,Re3,Bh6,Re2,Qd4+,Kf1,Ra8,Qxf6+,Bg7,Qh4,Ra1+,Re1,Qd3+,Be2,Rxe1+,Kxe1,Qb1+,Kf2,Qb6+,Kg3,Qe3+,Bf3,g5,Qg4,h6,Qc8+,Kh7,Qf5+,Kh8,d6', 'Qe1+,Kh3,Qh4#', 'https://lichess.org/training/1xXfY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1xxGA', 'Bullet', 'Cartsen_48', 1676, 'Konoya', 1709, 'e4,Nc6,Nf3,f5,exf5,d5,d4,Bxf5,Bd3,Bg4,h3,Bh5,g4,Bf7,Qe2,e6,Ne5,Nxe5,dxe5,Ne7,f4,c5,c3,c4,Bc2,Nc6,Nd2,Bc5,Nf3,Qb6,f5,O-O-O,Bd2,d4,cxd4,Nxd4,Nxd4,Bxd4,Qxc4+,Kb8,Bb3,Bxb2,Rd1,Rc8,Qd3,Rhd8,Qe2,Rc7,fxe6,Bxe6,Bxe6,Qxe6,Bg5,Rxd1+,Qxd1,Bc3+,Kf1,Qc4+,Kg2,Qe4+,Kg3,Bxe5+,Kh4,b6,Re1,Qg2,Rxe5,Qf2+,Kh5,Qf7+,Kh4', 'Qf2+,Kh5,g6+,Kh6,Qf8#', 'https://lichess.org/training/1xxGA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1XXkn', 'Rapid', 'orlandorochafilho', 1998, 'idiota1974', 2120, 'b3,e5,Bb2,d6,e3,f5,Nf3,Nf6,Be2,Be7,O-O,O-O,d3,Nc6,Nbd2,h6,e4,f4,c4,g5,h3,Qe8,Nh2,h5,g4,Qg6,f3,hxg4,Nxg4,Nxg4,hxg4,Kf7,Kg2,Rh8,Qc2,Bd7,Rh1,Na5,Bc3,Nc6,Rag1,Nd4,Bxd4,exd4,Qd1,a5,a4,c6,Rxh8,Rxh8,Rh1,Rxh1,Qxh1,Qg7,Qa1,b5,axb5,cxb5,Qxa5,bxc4,bxc4,Qh6,Nf1,Qf6,Bd1,Bd8,Qa7,Ke8,Bb3,Qe5,Ba4,Bxa4,Qxa4+,Ke7,Nd2,Qc5,Nb3,Qb6,Kf2,Kf7,Ke2,Ke7,Kd2,Ke6,Kc2,Bf6,Qa5,Qc6,Qd5+,Qxd5,exd5+,Kd7,Nd2,Kc7,Kb3,Kb6,Kb4,Ka6,Ne4,Be7,c5,dxc5+,Nxc5+', 'Kb6,Kc4,Bxc5', 'https://lichess.org/training/1XXkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1xxlk', 'Rapid', 'jb75009', 2077, 'Surfohio', 2102, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Nbd7,Qf3,Qc7,O-O-O,Be7,Bd3,h6,Bh4,b5,Rhe1,Bb7,Bxf6,Bxf6,Bxb5,axb5,Ndxb5,Qc5', 'Nxd6+,Ke7,Nxb7', 'https://lichess.org/training/1xxlk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Y134', 'Rapid', 'emiliooo', 2061, 'pkyue', 1940, 'e4,e6,Nf3,d5,exd5,exd5,d4,f5,c4,Nf6,Nc3,c6,Bg5,Be7,Bxf6,Bxf6,cxd5,cxd5,Bb5+,Nc6,O-O,O-O,Bxc6,bxc6,Rc1,Qd6,Na4,f4,Nc5,Bg4,h3,Bh5,Qd3,g5,Nh2,Rab8,b3,Rb4,Rfe1,Rxd4,Re6,Rxd3,Rxd6,Rd2,Nd7,Bb2,Rcxc6,Rf7,Ng4,Bxg4,hxg4,Bd4,Nf6+,Kg7,Nxd5,Bxf2+,Kf1,f3,gxf3,Rxf3,Rd7+,Rf7,Rxf7+,Kxf7,Nf6,Rxa2,Nxh7,Be3,Nf6', 'Rf2+,Ke1,Rxf6', 'https://lichess.org/training/1Y134');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1y20q', 'Rapid', 'pogo1989', 1721, 'Sajid77', 1702, 'e4,e5,Nf3,Qf6,Nc3,c6,g3,h6,Bg2,d6,O-O,Ne7,d4,exd4,Nxd4,Ng6,Nf3,Be7,Bf4,Nxf4,gxf4,Qxf4,Re1,O-O,Nd4,Bf6,Nde2,Qg5,f4,Qg4,Rf1,Bxc3,Nxc3,Qxd1,Raxd1,f6,e5,dxe5,fxe5,fxe5', 'Rxf8+,Kxf8,Rd8+,Ke7,Rxc8', 'https://lichess.org/training/1y20q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Y4wd', 'Rapid', 'BalikoevSD', 2176, 'Hannut', 1873, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nc6,Be3,e5,d5,Nb8,Bc4,Bd6,Nge2,f5,f3', 'Qh4+,Bf2,Qxc4', 'https://lichess.org/training/1Y4wd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1y6Dn', 'Rapid', 'Ragim05', 1750, 'cremant3', 1844, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,O-O,Be7,c3,Nf6,d4,d6,dxe5,Nxe5,Nxe5,dxe5,Qb3,O-O,Rd1,Bd6,Bg5,h6,Bh4,Qe7,Nd2,c6,Nf3,b5,Be2,Be6,Qc2,a5,Bxf6,gxf6,Qd2,Kh7', 'Qxd6,Qxd6,Rxd6', 'https://lichess.org/training/1y6Dn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1y9Jf', 'Rapid', 'kev_capla', 1886, 'houlaco2016', 1976, 'f4,e5,fxe5,d6,Nf3,Nc6,d4,dxe5,d5,Bc5,dxc6', 'Bf2+,Kxf2,Qxd1', 'https://lichess.org/training/1y9Jf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yBlK', 'Rapid', 'BigBlackGian', 2072, 'Ya_bi_dunul', 2085, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bf4,c6,e3,Bf5,Nf3,h6,Bd3,Ne4,O-O,g5,Be5,f6,Bxb8,Qxb8,Qc2,Bd6,Bxe4,dxe4,Nxe4,O-O,Qc4+,Kg7,Nxd6,Qxd6,Qc5,Qd7,Rac1,Be4,Nd2,Bd5,b3,Rfc8,e4,b6,Qc3,Bf7,Rfd1,Qg4,Qf3,Qd7,Nf1,Rc7,Ng3,Rf8,Nh5+,Bxh5,Qxh5,f5,e5,Qe6,Qe2,Rd8,Qc4,Rd5,Re1,b5,Qc3,c5,dxc5,Rdxc5,Qb2,Rxc1,Rxc1,Rxc1+,Qxc1,Qxe5,g3,Qb8,Qc3+,Kg6,Qc6+,Kh5,Qd5,f4,Qf7+,Kg4,Qg6,fxg3,hxg3,h5,Qe4+,Kh3,Qf3,Qe5', 'Qxh5#', 'https://lichess.org/training/1yBlK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yG9Q', 'Rapid', 'bedo777', 1722, 'vatoo', 1604, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,a6,Be2,Nc6,d4,g6,O-O,Bg7,Be3,Nf6,h3,O-O,Qd2,Bf5,Rfd1,Nb4,Bd3,Bxd3,cxd3,Nfd5,Nxd5,Nxd5,Bh6,Nf6,Bxg7,Kxg7,Rac1,c6,a3,a5,Qf4,Qd7,Ne5,Qd5,Rc5,Qd6,Qh4,Rfd8,Nf3,b6,Re5,a4,Rde1,Re8,Qg3,Ra7,Nh4,Qxd4', 'Nf5+,Kf8,Nxd4', 'https://lichess.org/training/1yG9Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yihS', 'Rapid', 'Kinigos', 2137, 'Trenerposhahmatam', 2127, 'e4,c6,d4,d5,e5,Bf5,h4,c5,g4,Bd7,dxc5,Qc8,Qxd5', 'Bc6,Qb3,Bxh1', 'https://lichess.org/training/1yihS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yJaG', 'Rapid', 'dreamchesser', 1767, 'randomalbumtitle', 1797, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,Re1,h6,Bf1,a6,d3,d6,h3,Ba7,Be3,Nd4,Nb1,c5,c3,Ne6,d4,exd4,cxd4,Nxe4,Bxh6,N4g5,Bxg5,Nxg5,dxc5,Nxf3+,Qxf3,Bxc5,Nc3,Rb8,Bc4,Be6,Bd5,b5,a3,Bd4,Bxe6', 'fxe6,Qg4,Bxf2+', 'https://lichess.org/training/1yJaG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1YKAm', 'Blitz', 'kaaskoppie', 2140, 'Shang-Tsung', 2078, 'c4,g6,Nc3,Bg7,h4,d6,g3,Nc6,Nh3,Nf6,Bg2,e5,d3,Bg4,f3,Be6,Ng5,h6,Nxe6,fxe6,Bh3,Qe7,Be3,d5,cxd5,exd5,d4,O-O,Qd2,exd4,Bxd4,Nxd4,Qxd4,c5,Qd3,d4,Qc4+,Kh8,Nd5,Nxd5,Qxd5,Rad8,Qc4,b5,Qxb5,Rb8,Qd3,Rxb2,Rh2,c4,Qxg6,Rxf3,Bf5,Bf8,O-O-O,Rc3+,Kxb2,Qa3+,Ka1', 'Rc1+,Rxc1,Qxc1+,Bb1,Qc3#', 'https://lichess.org/training/1YKAm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Ym51', 'Blitz', 'thatchris', 1609, 'MarloStanfield', 1646, 'e4,g6,d4,Nf6,Bd3,d5,e5,Ne4,Nf3,c5,c4,Nc6,O-O,cxd4,Nxd4,Nxd4,cxd5,Qxd5,Re1,Nc5,Nc3,Qe6,Bb5+,Nc6,Nd5,Qd7,Bxc6,Qxc6,Nf6+,exf6,exf6+,Be6,Be3,b6,Rc1,Qa4,Qf3,Rc8,a3,Qb5,b4,Nd3,Rxc8+,Bxc8,Qe4+,Ne5,Bf4,Bd6,Qa8,O-O,Qe4,Nd3,Bxd6,Nxe1,Bxf8,Kxf8', 'Qe7+,Kg8,Qd8+,Qe8,Qxe8#', 'https://lichess.org/training/1Ym51');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yNoJ', 'Rapid', 'periwinkle', 1990, 'Madega', 2023, 'd4,f5,Nf3,Nf6,Nc3,e6,Bg5,Bb4,a3,Bxc3+,bxc3,O-O,e3,d6,Bc4,Qe8,Bxf6,Rxf6,Ng5,Qg6,Nf3,Qxg2,Rg1,Qh3,Rg3,Qh5,Be2,Qf7,Ng5,Qe7,e4,e5,Bc4+,Kh8,Qh5,h6,Nf7+,Kh7,dxe5,dxe5,Rd1,Nc6,Ng5+,Kh8,Nf7+,Kh7,Ng5+,Kh8,Nf7+,Rxf7,Bxf7,f4,Rg6,Qxf7', 'Rxh6+,gxh6,Qxf7', 'https://lichess.org/training/1yNoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yqiM', 'Blitz', 'HN1333', 1983, 'FarzinTal', 1887, 'd4,d5,c4,c6,Nc3,e6,f3,dxc4,a4,Bb4,e4,b5,axb5,cxb5,Bd2,Qxd4,Nge2,Qd7,b3,Nf6,Qc2,O-O,bxc4,bxc4,Ng3,Ba6,Be2,Nc6,Rxa6,Nd4,Qb2,Rab8,Qa2,Rfc8,O-O,Nxe2+,Ngxe2,Qd3,Nf4,Qd4+,Kh1,Bxc3,Bxc3,Qxc3,Rxa7,Rb2,Qa6,Rcb8,Ra8,Qb3', 'Qc8+,Ne8,Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/1yqiM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yQlH', 'Classical', 'wassouf111', 1961, 'superedu68', 2187, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,Qe7,g3,Bxd2+,Qxd2,d6,Nc3,O-O,Bg2,e5,O-O,e4,Ng5,Bf5,Qf4,Bg6,Ngxe4,Nxe4,Bxe4,Nc6,Bg2,Qd7,a3,a5,Rfe1,a4,Rac1,Na5,e4,Nxc4,Nd5,b5,e5,Rfe8,Nb4,dxe5,dxe5,c5,Bc6,Qe6,Bxb5,Nxb2,Bxe8,cxb4,Qxb4', 'Nd3,Bc6,Nxb4', 'https://lichess.org/training/1yQlH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yRBI', 'Rapid', 'HoseinPersian', 1740, 'DeidarAndrei', 1711, 'e4,b6,d4,Bb7,Nc3,e6,Bd2,d5,e5,f6,Bd3,Qe7,Nh3,Nd7,Nf4,O-O-O,a4,fxe5,dxe5,d4,Ne4,Nxe5,O-O,g5,Nh3,g4,Nf4,h5,a5,Kb8,axb6,cxb6,b4,h4,c4,Nxd3,Nxd3,h3,Nec5,bxc5,bxc5,hxg2,Re1,Rxh2', 'Bf4+,Kc8,Bxh2', 'https://lichess.org/training/1yRBI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1YsYp', 'Blitz', 'HannHagen', 2420, 'IM purzelbaumer', 2432, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bg5,d6,e3,b6,Be2,Bb7,O-O,Re8,Rc1,Ne4,Nxe4,Bxe4,Qb3,c5,Rfd1,Qc7,a3,Nd7,Nd2,Bb7,Qd3,a6,Bf3,Bxf3,Nxf3,Qb7,b4,cxb4,axb4,a5,c5,Rac8,cxd6,exd6,bxa5,bxa5,Qa3,Qa6,Rxc8,Rxc8,Be7,d5,h3,Nb6,Bc5,Nc4,Qa2,a4,Nd2,Bf8,Bxf8,Kxf8,Nb3,a3,Nc5,Qb5,Rb1,Rxc5,dxc5,Qxc5,Rb8+,Kg7,Qa1+,f6,Ra8,Qb4,Ra6,Qb2,Qxb2,axb2,Ra7+,Kf8,Rb7,Ke8,Kf1,Kd8,Rb4,Kc8,Ke2,Kc7,Kd3,Kc6,Kc3,Kc5,Rxb2,Nxb2,Kxb2,d4,Kc2,dxe3,fxe3,Kd5,Kd3,Ke5,Ke2,f5,Kf3,g5,g3,h5,h4,g4+,Ke2', 'Ke4,Kd2,Kf3', 'https://lichess.org/training/1YsYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yuco', 'Blitz', 'Andrey11976', 2282, 'IM LittlePumpkin', 2548, 'd4,f5,Bg5,h6,Bf4,d6,e3,Nf6,h4,Nc6,Nf3,Be6,c4,Bf7,Nc3,e6,Be2,Qe7,d5,Nd8,dxe6,Nxe6,Bg3,c6,Nd4,g6,Nxe6,Qxe6,Qd2,Rd8,O-O-O,Be7,Bd3,O-O,Bf4,Kh7,Qc2,h5,Rdg1,Ng4,Qd2,Ne5,f3,Nxc4,Bxc4,Qxc4,g4,Bf6,gxf5,gxf5,Bg5,Bxc3,bxc3,Rde8,Kb1,Re5,Rg2,Rg8,Rhg1,Rb5+,Ka1,Ra5,Qc2,Qe6,e4,fxe4,fxe4,Bg6,Re1,Rf8,Qb2,Rb5,Qe2,Qe5,Qe3,Rc5,Rc1,Qxe4,Qxe4,Bxe4,Re2,d5', 'Be7,Rxc3,Rxc3,Rf1+,Kb2', 'https://lichess.org/training/1yuco');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1YUm0', 'Blitz', 'Azatmm', 1855, 'Voin55115', 1856, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bb5,Bg4,O-O,e6,c4,a6,Bxc6+,bxc6,Qa4,Bxf3,Qxc6+,Ke7,Qb7+,Kf6,gxf3,g6,Bf4,g5,Be5+,Kg6,Bxh8,Bd6,Be5,Rb8,Qxa6,Bxe5,dxe5,Rxb2,Rd1,Ne7,Nc3,Rc2,Nxd5,Nxd5,cxd5,Kg7,dxe6,Qe7,Rd7,Qc5,Rxf7+,Kg6,Qd6', 'Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/1YUm0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yWQE', 'Classical', 'CHESSEVERO', 1815, 'Titovisk', 1802, 'e4,c5,Nf3,Nc6,Bc4,d6,Ng5,e6,d3,Be7,h4,h6,Nf3,Nf6,Bb5,Qc7,b3,Bd7,Bxc6,Bxc6,Bb2,d5,e5,Nd7,Qe2,d4,Nbd2,O-O,O-O-O,a5,g4,f6,exf6,Rxf6,Rhg1,Qf4,g5,Bxf3,Qxf3,hxg5,Qxf4,gxf4,Ne4,Rh6,Ng5,e5,Rh1,Nf8,Rde1,Bf6,Kb1,Ng6,h5,Ne7,Ne4,b6,f3,Kf7,Reg1,Nf5,Bc1,Rah8,Ng5+,Ke7,Ne4,Rxh5,Rxh5,Rxh5,c3,Rh3,Rf1,Nh4,cxd4,cxd4,Ba3+,Kd7,Rg1,Nf5,Rg6,Ke6', 'Ng5+,Kd5,Nxh3', 'https://lichess.org/training/1yWQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yyEQ', 'Classical', 'marko714', 1786, 'Nh9Nh1', 1876, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,Bb4,f3,O-O,Bd2,Bxc3,Bxc3,d5,Qe2,dxe4,fxe4,Bg4,Qe3,Qb6,Qxb6,axb6,Nd2,Rfd8,h3,Bh5,g4,Bg6,Bg2,Ra4,b3,Ra7,O-O,Nd4,g5', 'Ne2+,Kh2,Nxc3', 'https://lichess.org/training/1yyEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Yzbz', 'Rapid', 'freshup69', 1620, 'emilcirineo', 1601, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d3,a6,Ba4,b5,Bb3,Na5,Nc3,Nxb3,axb3,d6,O-O,g6,Nxb5,c6,Nc3,Bg7,Bg5,O-O,Ne2,Qc7,Re1,d5,h3,dxe4,dxe4,Rd8,Qc1,f6,Bh6,a5,Rd1', 'Rxd1+,Qxd1,Bxh6', 'https://lichess.org/training/1Yzbz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1yzOq', 'Rapid', 'justlosing', 1821, 'notmystyle123', 1882, 'e4,e5,f4,exf4,Nf3,d6,Nc3,Nf6,d3,Bg4,Bxf4,Nc6,h3,Bxf3,Qxf3,Qd7,Bg5,Be7,Nd5,Nxd5,exd5,Bxg5,dxc6,Qe6+,Be2,b6,O-O,O-O,c4,a6,Rae1,Qe3+,Kh1,Qd4,b3,b5,cxb5,axb5,Bd1,Rxa2', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/1yzOq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Z3oJ', 'Classical', 'gray248', 2058, 'secaje06', 1966, 'e4,Nc6,Nf3,f5,exf5,d5,Bb5,Bxf5,d4,e6,Ne5,Ne7,O-O,a6,Nxc6,Nxc6,Bxc6+,bxc6,c3,Bd6,Re1,O-O,Nd2,c5,Nf3,cxd4,Nxd4,Qd7,Nxf5,Rxf5,Qd3,Qf7,f3,c5,Be3,c4,Qd2,Rb8,Rab1,Qh5,g4,Qg6,Qg2,Rf7,h4,h5,gxh5,Qxh5,Qg4,Qxg4+,fxg4,Rf3,Bf2,Rbf8,Rxe6,Bg3,Bxg3,Rxg3+,Kh2,Rxg4,Rxa6,Rff4,Rd6,Rxh4+,Kg3,Rhg4+,Kh3,Rh4+,Kg3,Rfg4+,Kf3,Rg5,a4,Kf7,Rd1,Rhh5,Ke3,Ke7,Rb6,Kd7,Rf1,Kc7,Rb5,Rf5,Rxf5,Rxf5,a5', 'd4+,Kxd4,Rxb5', 'https://lichess.org/training/1Z3oJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1z6Cv', 'Rapid', 'NeoPetitPrince', 1815, 'danipou', 1929, 'e4,Nf6,e5,Nd5,c4,Nb6,Nf3,d6,Nc3,Nc6,d4,Bg4,d5,Nxe5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,Nxc4,O-O,Ne5,Qe4,g6,f4,Ng4,f5,Ne5,Bf4,gxf5,Qxf5,Ng6,Bg5,f6,Bxf6,exf6,Rae1+,Ne5,Ne4,Be7,Qe6,Qd7', 'Nxf6+,Kd8,Nxd7', 'https://lichess.org/training/1z6Cv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Z9Fy', 'Rapid', 'mrspartan', 1663, 'Ryzvelts', 1660, 'e4,d6,d4,Nc6,Be3,e5,d5,Nce7,f4,Nf6,fxe5,Nxe4,Qf3,Nc5,Bxc5,dxc5,Bc4,Ng6,e6,fxe6,dxe6,Qh4+,g3,Qxc4', 'Qf7+,Kd8,e7+,Bxe7,Qxc4', 'https://lichess.org/training/1Z9Fy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1zbUw', 'Rapid', 'AnkitSheth007', 1695, 'Serg1988', 1707, 'e4,Nc6,d4,d6,c3,g6,Bd3,Bg7,Be3,Nf6,Nd2,O-O,Ne2,Ng4,O-O,Nxe3,fxe3,e6,Ng3,a6,Rc1,e5,d5,Ne7,Rf3,Bg4,h3,Bxf3,Qxf3,Bh6,c4,c5,b3,Nc8,Ndf1,Nb6,Nh2,Nd7,Ng4,Bg7,h4,h5,Nf2,Qxh4,Nh3,Nf6,Nf2,Ng4,Nxg4,hxg4,Qf2,Bh6,Kf1,Kg7', 'Nf5+,gxf5,Qxh4', 'https://lichess.org/training/1zbUw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1zBXY', 'Blitz', 'luciano1897', 1518, 'Alexchc', 1557, 'e4,e5,Nf3,Nf6,Bc4,Nc6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Qf6,Bxd5+,Be6,Qb3,Nd4,Qxb7,Nxc2+,Kd1,Nxa1,Qxa8,Qxf2,Qc6,Qf6,Ke1,Bd6,Rf1,Qxf1+,Kxf1,Rf8,d3,Ke7+,Kg1,Nc2,Bxe6,Nd4,Qd7+,Kf6,Nd2,Kg6,Ne4', 'Ne2+,Kh1,Rf1#', 'https://lichess.org/training/1zBXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ZE6U', 'Rapid', 'Bollerbirnchen', 2227, 'hammaddar93', 2063, 'd4,d5,c4,c6,Nc3,Nf6,f3,Bf5,g4,Bg6,h4,h5,g5,Qd6,gxf6,Qg3+,Kd2,gxf6,Qe1,Bh6+,Kd1', 'Bc2+,Kxc2,Qxe1', 'https://lichess.org/training/1ZE6U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1zfyJ', 'Rapid', 'Okurek', 1693, 'Romel1382', 1868, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Be3,cxd4,Nxd4,Nge7,Nxc6,Nxc6,Bb5,Bd7,O-O,Qc7,f4,Nxe5,Bxd7+,Nxd7,f5,Bc5,Bxc5,Qxc5+,Kh1,O-O,fxe6,fxe6,Rxf8+,Rxf8,Nc3,a6,a3,d4,Ne4,Qd5,Ng3,Rf2,Qg1,Rxc2,Rd1,e5,Nf5,Kf8,Qf1,Nf6,h3,Rxb2,Rc1,Qe6,Ng3,e4,Nh5,d3,Nxf6,Qxf6,Rc8+,Kf7,Rc7+,Kg6,Qe1,Qf5,Qg3+,Qg5', 'Rxg7+,Kxg7,Qxg5+', 'https://lichess.org/training/1zfyJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1zgit', 'Classical', 'Maxys9999', 1947, 'Chessdropper', 1701, 'e4,e5,Bc4,Nf6,Nf3,Nc6,c3,Nxe4,Qe2,f5,d3,d5,Bb3,Nf6,Nxe5,Nxe5,Qxe5+,Be7,O-O,O-O,Bg5,c6,Nd2,Re8,Rae1,Bd7,Bxf6,Bxf6,Qg3,a5,Nf3,h6,d4,c5,Ne5,Bb5,c4,Bxe5,Rxe5,dxc4,Rxe8+,Qxe8,Bc2,f4,Qc3,cxd4,Qxd4,c3,Rd1,cxb2,Qxb2,Qe2,Bb3+,Kh8,Qxe2,Bxe2,Rd4,f3,Re4,b5,Re3,Rf8,Bd5,Rd8,Re5,fxg2,Kxg2,Bd3,Bc6,Rb8,Kf3,a4,Ke3,Bc4,a3,b4,Re4,bxa3,Rxc4,Rb3+,Kd4', 'a2,Rxa4,Rb4+,Rxb4,a1=Q+', 'https://lichess.org/training/1zgit');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ZMEJ', 'Rapid', 'Mikzarva', 1741, 'Jupp3', 1786, 'e3,c5,b3,e6,Bb2,Nf6,Nf3,Nc6,Be2,d5,O-O,Bd6,c4,O-O,cxd5,exd5,Bd3,Bg4,h3,Bh5,Be2,Re8,d3,Ne5,Nxe5,Bxe2,Qxe2,Rxe5,Bxe5,Bxe5,d4,cxd4,Nd2,d3,Qxd3,Bxa1,Rxa1,Rc8,f3,h6,Rd1,Qa5,a4,Rc3,Qd4,Rc2,Qd3,Rc3,Qd4,Rc2,Nb1,Qa6,Na3,Ra2,Nb5,Qc6,Qc3,a6,Qxc6,bxc6,Nd4,c5,Nc6,Re2,Rd3,Kf8,Kf1,Rb2,Na5,Ke7,h4,Kd6', 'Nc4+,Kc6,Nxb2', 'https://lichess.org/training/1ZMEJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ZmY5', 'Rapid', 'GoldRelic', 1883, 'shatrughn', 1818, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,e5,d3,e4,dxe4,Qxd1+,Kxd1,Nxe4,Be3,Bg4,Be2,O-O-O+,Ke1,Bb4+,Kf1,Rhe8,a3,Bxf3,gxf3,Nd2+,Nxd2,Bxd2,Bc5,b6,Bb4,Nxb4,axb4,Bxb4,Rxa7,h5,Rxf7,h4,f4,h3,Ra7', 'Rd1+,Bxd1,Re1#', 'https://lichess.org/training/1ZmY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1zOuT', 'Rapid', 'Icantdance', 1800, 'zenzen31', 1638, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,h3,d6,d3,Nd4,a3,c6,b4,Bb6,Bb2,O-O,Nxd4,exd4,Ne2,d5,exd5,cxd5,Ba2,Re8,O-O,Bc7,Nxd4,Bxh3,gxh3,Qd6,Nf3,Qf4,Bxf6,gxf6,Bxd5,Kh8,Qd2,Rg8+,Kh1,Qf5,Qh6,Rg6,Be4,Qxe4,Qxh7+,Kxh7,dxe4,Rh6,h4,Rg8,Rg1,Re8,Rae1,b6,Kg2,a5,Kh3,a4,Re2,b5,Rge1,Bf4,Nd4,Re5,Nf3,Reh5,c4,Bg5,cxb5,Bxh4,Nxh4,Rxh4+,Kg3,Rh3+,Kf4', 'R6h4+,Kf5,Rf3#', 'https://lichess.org/training/1zOuT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ZpAL', 'Classical', 'ekempjr74', 1692, 'andrespbro', 1685, 'e4,e5,Nf3,Nf6,Nc3,d5,exd5,Nxd5,Ne4,Bg4,Be2,Nf4,Nxe5', 'Bxe2,Qxe2,Nxe2', 'https://lichess.org/training/1ZpAL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1zqaf', 'Classical', 'Kamal766542', 1704, 'piero1', 1757, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nb5,c6,Nc3,Nf6,d4,Bf5,Nf3,Bg4,Be2,e6,Bd2,Nbd7,O-O,Rd8,Ne5,Nxe5,dxe5,Bxe2,Qxe2,Rxd2,Qxd2,Qxe5,Rad1,Be7,Rfe1,Qc7,Ne4,Nd5,a3,O-O,c4,Nb6,c5,Nd5,Qe2,Qa5,Rc1,h6,Qg4,Bg5,Rcd1', 'f5,Qh3,fxe4', 'https://lichess.org/training/1zqaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1zsL8', 'Rapid', 'Hades24', 1799, 'Aleksandr_Dubkov', 1762, 'c4,g5,b3,Bg7,d4,c5,Bb2,cxd4,Bxd4', 'Qa5+,Qd2,Qxd2+,Nxd2,Bxd4', 'https://lichess.org/training/1zsL8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1zTl3', 'Rapid', 'renexo', 1808, 'Berserk_player4991', 1994, 'e4,c5,f4,d6,Nf3,a6,Bc4,e6,O-O,b5,Be2,Nc6,d3,d5,exd5,exd5,Nc3,Nf6,Bd2,d4,Ne4,Nxe4,dxe4,c4,Qe1,Bc5,Kh1,O-O,Rd1,Qe7,e5,Bf5,Rc1,Rad8,Qg3,f6,Nh4,Bxc2,Rxc2,d3,Bxd3,Rxd3,Qg4,fxe5,Nf5,Qf7', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/1zTl3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1zuVI', 'Classical', 'julianmartinez', 1613, 'panton12', 1669, 'b3,e6,Bb2,d5,e3,a6,f4,Nc6,Nf3,h6,c4,Nf6,d4,Be7,Nbd2,Bd7,Rc1,Ng4,Qe2,Bf6,h3', 'Bh4+,g3,Bxg3+,Kd1,Nf2+', 'https://lichess.org/training/1zuVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1Zwjj', 'Rapid', 'hoklim', 2076, 'fawze73', 1828, 'd4,e6,c4,c5,d5,e5,Nc3,d6,f4,f6,fxe5,fxe5,e4,Nf6,Nf3,Bg4,Be2,Nbd7,O-O,a6,Bg5,Bh5,h3,Be7,Nh4,Bxe2,Qxe2,O-O,Nf5,g6,Nxe7+,Qxe7,Rf2,Qg7,Qe3,Nh5,Bh6,Qe7,Bxf8,Nxf8,g3,Nd7,Raf1,Ndf6,Qg5,Kg7,Qe3,h6,Kh2,Rf8,a4,b6,b3,Rf7,Ne2,g5,g4,Nf4,Nxf4,gxf4,Qf3,Qd7,Rg1,Nh7,h4,Kf8,Ra2,Ke8,a5,b5,g5,hxg5,hxg5,Nf8,g6,Rg7,Qh3,Nxg6,Qxd7+,Kxd7,Rag2', 'Rh7#', 'https://lichess.org/training/1Zwjj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1zWTR', 'Classical', 'JuyopVGC', 1854, 'giovapallina', 1930, 'e4,c5,d4,g6,Nf3,cxd4,c3,Bg7,cxd4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,Nb6,Bb3,O-O,O-O,Nc6,Re1,Bf5,Bg5,h6,Be3,Na5,Bc2,Bxc2,Qxc2,Rc8,Rac1,Nd5,Qd2,Nc4,Qe2,e6,Nxd5,Qxd5,b3,Nxe3,Qxe3,Rfd8,Rc5,Bxd4', 'Rxd5,Bxe3,Rxd8+', 'https://lichess.org/training/1zWTR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('1ZxRl', 'Rapid', 'chess-stuff', 1708, 'avlek', 1672, 'Nf3,Nc6,c4,e5,e3,e4,Nd4,Nf6,d3,d5,cxd5,Nxd5,dxe4,Nf6,Bd3,Bb4+,Nc3,Nxd4,exd4,Qxd4', 'Bb5+,Qd7,Bxd7+', 'https://lichess.org/training/1ZxRl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('207Ok', 'Blitz', 'LM Lance5500-YouTube', 2536, 'omar_ms', 2131, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,Bb5+,Bd7,a4,a6,Be2,Bg7,Nf3,O-O,Nd2,Ne8,Qc2,Bc8,Nc4,Nd7,Bf4,Qe7,O-O,Ne5,Rae1,Nxc4,Bxc4,Rb8,Bg3,Bd7,a5,b5,axb6,Rxb6,f4,Bd4+,Kh1,Ng7,b3,Bb5,Bxb5,axb5,Ne2,Bf6,Nc3,Bxc3,Qxc3,b4,Qc4,Nh5,e5,Nxg3+,hxg3,Re8,e6,f5,Ra1,Qf6,Ra6,Rxa6,Qxa6,Qe7,Ra1,Qc7,Qa7,Qxa7,Rxa7,Rc8,Rd7,Rb8,e7,Kf7', 'Rd8,Kxe7,Rxb8', 'https://lichess.org/training/207Ok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('20D75', 'Rapid', 'Michi76', 1748, 'C4Explosive', 1715, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,O-O,Ne5,Bb3,a6,h3,b5,a3,Nc4,Bxc4,bxc4,f4,d5,e5,Ne4,Nxe4,dxe4,Qe2,Qc7,c3,Rb8,Rab1,Bb7,Rfd1,Bd5,Rd2,Qd7,Rbd1,f6,Kh2,fxe5,fxe5,Bxe5+,Kg1,Rf7,Ne6,Qxe6,Rxd5,Kg7', 'Rxe5,Qxe5,Bd4', 'https://lichess.org/training/20D75');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('20f3G', 'Blitz', 'igorbar', 1995, 'sstamb495', 1984, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Nc6,Bc4,a6,O-O,b5,Bb3,Nge7,Qe2,Ng6,Rd1,Na5,Bc2,Bc5,a3,Bb6,Bg5,f6,Bd2,O-O,b4,Nc4,Bb3,Nxd2,Rxd2,Qe7,Nd5,Qd8,Nxb6,Qxb6,Rad1,Rd8,Bxe6+,Qxe6,Nd4,Qc4,Qf3,Bb7,Qf5,Ne7,Qf4,d5,Ne6,Re8,Qg4,Ng6,Nc5,Bc6,Rd4,Qc2,exd5,Rad8,dxc6,Ne5,Qh4', 'Qxd1+,Rxd1,Rxd1#', 'https://lichess.org/training/20f3G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('20GrP', 'Classical', 'irajrahmani', 2025, 'alkabdythh', 1921, 'd4,Nf6,Bg5,Ne4,Bh4,g5,Bg3,Nxg3,hxg3,Bg7,c3,d5,Nd2,Bf5,f4,Qd6,e3,Nc6,Bb5,O-O-O,Ngf3,gxf4,gxf4,Qg6,Qe2,Rd6,Bxc6,Rxc6,O-O-O,Qd6,Nh4', 'Rxc3+,bxc3,Qa3#', 'https://lichess.org/training/20GrP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('217bs', 'Classical', 'lodemon', 1931, 'Chess-Vladimir-Chess', 1672, 'Nf3,Nc6,g3,e5,d3,Bc5,Bg2,Nf6,O-O,d5,Nbd2,O-O,e4,d4,Nc4,Qe7,a4,Bg4,h3,Bxf3,Qxf3,h6,Qf5,a6,a5,Rfe8,f4', 'g6,fxe5,gxf5', 'https://lichess.org/training/217bs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('21ABo', 'Blitz', 'TryaDery', 2712, 'IM Aminmolaei', 2603, 'd4,e6,c4,b6,Nc3,Bb7,Qc2,f5,e4,Bb4,exf5,Qh4,fxe6,Nf6,d5,dxe6,Nf3,Qe4+,Qxe4,Nxe4,Bd2,Nxd2,Nxd2,exd5,Nxd5,Bxd5,cxd5,O-O,Bc4,Re8+,Kd1,Kh8,Nf3,Nd7,Bb5,Rad8,Kc2,Rf8,Bxd7,Rxd7,Rad1,Bc5,Rd2,a5,a3,Re7,Kb3,h6,Kc4,g5,h3,Rf4+,Kb5,Kg7,Rc1,Kf6,Rc4,Rxc4,Kxc4,h5,b4,axb4,axb4,Bd6,Nd4,Re4,Kb5,Ke5,Nc6+,Kf6,f3,Re3,Nd4,Ke5,Kc4,Re1,Re2+,Rxe2,Nxe2,Bf8,g3,Bd6,f4+,gxf4,Nxf4,h4,Ng6+,Kf6,Nxh4,Bxg3,Nf3,Bd6,Nd4,Kg5,Nb5,Be5,Na7,Kh4,Kb5,Kxh3,Kc6,Kg4', 'Nb5,Bf4,Nxc7', 'https://lichess.org/training/21ABo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('21Ang', 'Classical', 'Hephestus', 1626, 'Xavi53', 1610, 'd4,e6,c4,Nf6,g3,Nc6,Bg2,g6,Bg5,Bg7,e3,h6,Bf4,g5,Be5,Nxe5,dxe5,Ng4,Nf3,Nxe5,Nxe5,Bxe5,Nc3,Qf6,Ne4,Qg7,O-O,Bxb2,Rb1,Be5,Nc5,Rb8,Nxb7,Bxb7,Bxb7,h5,Bc6,Rxb1', 'Qxd7+,Kf8,Qd8#', 'https://lichess.org/training/21Ang');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('21eHy', 'Rapid', 'milutinvasa', 1997, 'ANANH', 1902, 'e4,e6,d4,d6,Nf3,Nc6,Bb5,Bd7,Bg5,Nge7,e5,h6,Bh4,g5,Bg3,Bg7,exd6,cxd6,Bxd6,Qa5+,Nc3,Nd5,O-O', 'Nxc3,bxc3,Qxb5', 'https://lichess.org/training/21eHy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('21hd6', 'Rapid', 'seint', 1724, 'Leo4164', 1760, 'e4,c5,Bc4,e6,Nf3,Nc6,a3,d5,exd5,exd5,Qe2+,Be7,Bb5,Bd7,d3,Nf6,Bg5,O-O,O-O,Re8,Qd2,a6,Bxc6,Bxc6,Re1,Nd7,Bxe7,Rxe7,Nc3,d4,Ne4,Bxe4,Rxe4,Nf6,Rxe7,Qxe7,Re1,Qd6,Qg5,Re8,Rxe8+,Nxe8,Nh4,h6,Qg4,Kh7,Qe4+,g6,Qxe8,Qf4,g3,Qc1+,Kg2,Kg7,Qe5+,Kg8,Qxc5,Qxb2,Nf3,b6,Qxd4,Qxa3,Qxb6,a5,Qb8+,Kg7,Qe5+,Kg8,Nd2,a4,Nc4,Qb4,Qb2', 'Qxb2,Nxb2,a3,Nc4,a2', 'https://lichess.org/training/21hd6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('21mU2', 'Rapid', 'MUSH6874', 1678, 'Dede_Donas', 1818, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Nc3,Be7,Bb5+,c6,Bd3,h6,O-O,O-O,Ne5,Nbd7,Qf3,Nxe5,dxe5,Ng4,h3,Nxe5,Qg3,Nxd3,cxd3,Bd6,Qf3,Be6,Re1,Qb6,Be3,c5,Nxd5,Qxb2,Rab1,Qxa2,Nc3,Qa6,d4,Qc6,dxc5,Bxc5', 'Qxc6,bxc6,Bxc5', 'https://lichess.org/training/21mU2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('21PDA', 'Rapid', 'alberhasky', 2135, 'olazabal1959', 2012, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,c3,d6,h3,Nb8,d4,Nbd7,Nbd2,h6,Nf1,Re8,Ng3,Bf8,a4,Rb8,axb5,axb5,Bd2,c5,dxe5,dxe5,Be3,Qc7,Nf5,c4,Bc2,Kh7,Nh2,g6,Ng3,Bb7,Ng4,Nxg4,Qxg4,Nf6,Qf3,Ng8,Red1,Ra8,Qg4,Nf6,Qh4,Ng8,Qg4,Nf6,Qf3,Ng8,h4,Red8,h5,Rxd1+,Rxd1,Kg7,hxg6,fxg6,Qg4,Bc8,Qf3,Ra2,Bc1,Nf6,Bxh6+,Kf7,Bxf8', 'Bg4,Qe3,Bxd1', 'https://lichess.org/training/21PDA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('21R4w', 'Blitz', 'derwisch', 2117, 'abdulfemi2', 2079, 'c4,c5,g3,e6,Bg2,Nf6,Nc3,a6,Nf3,Be7,O-O,Nc6,e3,d5,cxd5,Nxd5,d4,cxd4,Nxd4,Nxd4,exd4,Nc7,Bf4,O-O,Rc1,Nd5,Qd2,Nxf4,Qxf4,Bg5,Qe4,Bxc1,Rxc1,Ra7,d5,exd5,Nxd5,b5,Rd1,Rd7,Rd3,Bb7,Qe5,Bxd5,Rxd5,Rxd5,Bxd5,b4,Kg2,a5,Bb3,a4,Bc4,a3,bxa3,bxa3,h4,g6,h5,Qb8,Qg5,Qd6,h6,Qc6+,Bd5,Qc3,Bb3,Rc8,Qe7,Qc7', 'Bxf7+,Kh8,Qf6#', 'https://lichess.org/training/21R4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('21uFH', 'Blitz', 'GRIG87', 1606, 'knightfly', 1734, 'e4,Nf6,e5,Nd5,Nf3,d6,d4,g6,Bc4,Nb6,Bb3,Bg7,O-O,O-O,c3,a5,a4,Nc6,Nbd2,Bg4,h3,Bc8,Re1,e6,Qc2,dxe5,Nxe5,Nxe5,dxe5,Nd5,Nf3,c5,Bg5,Qc7,Rad1,c4,Ba2,Bd7,Qe4,b5,axb5,Bxb5,Nd4,Rab8,Nxb5,Rxb5,Bxc4,Rxb2,Bxd5,exd5,Qxd5,Qxc3,Bf6,Qc2,Qf3,Rb3,Qe2,Qf5,Bxg7,Kxg7,e6,Qxe6,Qxe6,fxe6,Rxe6,Rf7,Ra6,Rb2,Rxa5,Rfxf2,Rd7+,Kh6,g4,Rg2+,Kf1,Rh2', 'g5+,Kh5,Rxh7#', 'https://lichess.org/training/21uFH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('21V2B', 'Rapid', 'diego18', 1737, 'TheGrandDesign', 1918, 'e4,c5,Nf3,Nc6,Nc3,d6,Bc4,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nf6,Qd1,e5,O-O,h6,Nf3,Be7,d3,Kf7,h3,Rf8,Be3,Kg8,Qd2,Qd7,Bxh6,gxh6,Qxh6,Rf7,Nd5,Nxd5,exd5,Nd4,Nxd4,cxd4,Rae1,Rh7,Qg6+,Rg7,Qe4,Rf8,f4,exf4,Rxf4,Rxf4,Qxf4,Rf7,Qe4,Bf6,Qg6+,Bg7,Re4,Qf5', 'Re8+,Rf8,Qxf5', 'https://lichess.org/training/21V2B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('22abI', 'Classical', 'vjhjpjd', 1906, 'el_perro_orfeo', 1895, 'd4,d6,a3,e5,dxe5,Nc6,exd6,Bxd6,c3,Be6,e3,Qe7,Bb5,Nf6,Nf3,Rd8,Nbd2,O-O,O-O,Na5,Ba4,Bg4,h3,Bh5,Qe1,Bg6,b4,Nc6,Bd1,Ne5,Bb2', 'Nd3,Qe2,Nxb2', 'https://lichess.org/training/22abI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('22AWr', 'Rapid', 'aleksander_73', 1833, 'HClay', 1821, 'd4,d6,c4,Nf6,e3,g6,Bd3,Bg7,Nf3,Bg4,Nbd2,O-O,h3,Bxf3,Nxf3,Nbd7,O-O,e5,dxe5,Nxe5,Be2,Nxf3+,Bxf3,Rb8,Rb1,Nd7,b3,Ne5,Bb2,Nxf3+,Qxf3,Bxb2,Rxb2,Qe7,Rd2,Rfe8,Rfd1,Qe4,Qe2,f5,Rd4,Qe5,Rd5,Qe6,Qb2,f4,exf4,Qe2,R5d2,Qe4,Qd4,a6,Qxe4,Rxe4,g3,Rbe8,Kg2,Re2,Kf3,Rxd2,Rxd2,Kf7,Kg4,Re1,h4,h5+,Kf3,Re7,a3,Re6,Rd3,c6,g4,Ke7,f5,hxg4+,Kxg4,gxf5+,Kxf5,Rf6+,Kg5,Rxf2,h5,Rg2+,Kh6,Ke6,Kh7,d5,cxd5+,cxd5,h6,Ke5,Re3+,Kf4,Re7,d4,Rg7,Re2,Kg6,d3,Rf7+,Kg4,h7,Rh2,Rf8,d2,Rd8,Kf3,Kg7,Ke2,h8=Q', 'Rxh8,Rxh8,d1=Q', 'https://lichess.org/training/22AWr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('22bSy', 'Rapid', 'Elvis_Leal', 1754, 'reilandjs', 1880, 'd3,d5,b3,e5,Bb2,Bd6,Nd2,Nf6,Ngf3,d4,e3,c5,Nc4,O-O,Ncxe5,Bxe5,Nxe5,Re8,Nf3,dxe3,fxe3,Rxe3+,Kd2,Re8,Kc1,Nd5,Qd2,Nc6,Be2,Ndb4,Bc3,Nd5,Bb2,Qa5,Qxa5,Nxa5,Re1,Nc6,Kd2,Bg4,h3,Bd7,c4,Nf4,Bf1,Rxe1,Rxe1,Re8,Rxe8+,Bxe8,Ne5,f6,Nf3,Bh5,g4,Bg6,Nh4,Kf7,Nxg6,hxg6,Ke3,g5,h4,Nb4,hxg5,fxg5,a3,Nc2+,Ke4,b6,Kf5', 'Ne3+,Ke4,Nxf1', 'https://lichess.org/training/22bSy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('22gBv', 'Blitz', 'iconic1', 1933, 'FM admichael', 2375, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,c5,Nf3,O-O,Be2,Nc6,O-O,cxd4,exd4,d5,cxd5,exd5,a3,Bxc3,bxc3,Ne4,Bd2,Be6,Re1,f5,Bd3,Rc8,Rb1,b6,Bb5,Na5,Ne5,Nc4,Bxc4,dxc4,f3,Nxd2,Qxd2,f4,Ng6,hxg6,Rxe6,Rf6,Rxf6,Qxf6,Re1,g5,Re5,a6,Qb2,b5,Qb4,Kf7,Qa5,Re8,Qc7+,Kf8,Rxe8+,Kxe8,Qc8+,Kf7,Qd7+,Kg6,Qd5,Qf5,Qc6+,Kh7,Qe4,Kg6,Kf2,Kf6,Ke2,Qd7,Qe5+,Kg6,Qe4+,Kf7,Qe5,Qe7,Qxe7+,Kxe7,Kd2,Ke6,Kc2,a5,Kb2,Kd5,Kc2,b4,axb4,axb4,cxb4,Kxd4,b5', 'Kc5,b6,Kxb6', 'https://lichess.org/training/22gBv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('22JlL', 'Blitz', 'Tah7200', 1661, 'chessfaker123', 1619, 'Nf3,e5,d3,Nc6,g3,d6,Bg2,Nf6,b3,Be7,Bb2,O-O,Nc3,Re8,Rb1,Bg4,Qd2,Bxf3,exf3,h6,O-O,Nh7,f4,exf4,Qxf4,Bg5,Qa4,Qd7,Qb5,b6,Bxc6,Qh3,Bxe8,Nf6,Bc6', 'Ng4,Rfc1,Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/22JlL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('22KWy', 'Classical', 'Nardau', 1991, 'huseyin0103', 1976, 'e4,e5,Nf3,d5,c3,dxe4,Qa4+,Nc6,Qxe4,Nf6,Qc2,e4,Ng5,Bf5,Qb3,Nd5,Qxb7,Bd7,Nxe4,a6,Qb3,Be6,Qc2,Be7,d4,O-O,Bd3,f5,Ned2,Nf4,O-O,Nxd3,Qxd3,Rf6,Nf3,Kh8,Re1,Rg6,Nbd2,Bd6,Nc4,Bd5,Nxd6,Qxd6,c4,Bxf3,Qxf3,Rf8,d5,Nd4,Qc3,Nb5,cxb5,Qxd5,f3,axb5,b3,Rc6,Qe3,h5,Bb2,Rc2,Qe5,Qf7,Ba3,Qg6,Re2,Rxe2,Qxe2,b4,Bxb4,Qb6+,Kh1,Qxb4,Qc2,Qd4,Rc1,Rd8,h3,Qf4,Qxc7', 'Rd1+,Rxd1,Qxc7', 'https://lichess.org/training/22KWy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('22m3V', 'Classical', 'fischer999922', 1817, 'Maloi555', 1949, 'e4,e6,d4,d5,exd5,exd5,Nc3,h6,Nf3,Nf6,Bd3,Bd6,O-O,O-O,Ne5,c5,Re1,cxd4,Nb5,Bxe5,Rxe5,Nc6,Re1,a6,Na3,Bg4,f3,Be6,c4,dxc3,bxc3,b5,Bb2,Nh5,Qd2,Qh4,Nc2,Nf4,Bf1,Qg5,Kh1,Rfd8,Bc1,Nxg2,Qxg5,hxg5,Bxg2,Bf5,Nd4,Nxd4,cxd4,f6,Bb2,Rac8,Rac1,Rc4,Bf1,Rb4,Bc3,Ra4,Ra1,Rc8,Rec1,Ra3,Bb4,Rxc1,Rxc1,Rxa2,Bg2,a5,f4,axb4', 'Bxd5+,Kf8,Bxa2', 'https://lichess.org/training/22m3V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('22ubV', 'Classical', 'HighEveryGame', 1960, 'Andytop10', 1935, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d4,exd4,e5,d5,Bb5,Nd7,Re1,Be7,Bxc6,bxc6,Nxd4,Bb7,Qg4,Bg5,e6,Nf6,exf7+,Kxf7,Qe6+,Kf8,Bxg5,hxg5,Qf5,Qd6,Ne6+,Kg8,h3,Bc8,Nd2,g4,Nc4,dxc4,Rad1,Nd5,Qxg4,Rh7,Qg6,Bxe6,Rxe6,Qf8,Rxc6,Nf4,Qe4,Qf7,Rd4,Re8', 'Qxf4,Qxf4,Rxf4', 'https://lichess.org/training/22ubV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2330e', 'Rapid', 'Ptolomaeus', 1617, 'baird89', 1726, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,O-O,Re1,d6,h3,Be6,d3,Qd7,Bxe6,fxe6,b3,Bb4,Bd2,d5,Ne2,dxe4,Bxb4,Nxb4,Nxe5,Qb5,d4,Rad8,Ng3,Nc6,Nxc6,Qxc6,c3,Qxc3,Nxe4,Nxe4,Rxe4,Qb2,f3,Rd6,a4,Rfd8,Rb1,Qc3,Rc1,Qa5,Rc4,e5,Rxe5', 'Qxe5,dxe5,Rxd1+', 'https://lichess.org/training/2330e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('239iW', 'Blitz', 'Rsshbtlll', 2056, 'Marlonpedarsov', 2199, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,Nf6,O-O,e6,Qe2,Be7,Rd1,Bd7,h3,O-O,Bf4,e5,Be3,a6,a4,Rc8,Rac1,h6,Nd5,Nxd5,Bxd5,Kh8,b4,Nxb4,Bxb7,Rb8,Bxa6,Bxa4,Rd2,Nxa6,Qxa6,Bb5,Qa2,f5,Nxe5,Qe8,Nc4,fxe4,Nxd6,Qg6,Nxb5,Rxb5,Rc7,Bg5,Qc4,Rb1+,Kh2,Bxe3,fxe3,Qf5,Qd4,Qg5,Re7,Rff1,Qd8+,Kh7,Rxg7+,Qxg7,g4,Rh1+,Kg3,Rbg1+,Kh4,Rxh3+,Kxh3', 'Qxg4+,Kh2,Qg3#', 'https://lichess.org/training/239iW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('23e0S', 'Rapid', 'Alicat1365', 1897, 'yousukenaka', 1867, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,Be2,Nc6,Nxc6,bxc6,g4,Bb7,Bxf6,Bxf6,g5,Bxc3+,Qxc3,Rg8,Bf3,c5,f5,O-O-O,O-O-O,Qc6,Rhf1,Qb5,h4,a5,h5,a4,a3,Bc6,g6,hxg6,hxg6,fxg6,fxe6,Qb7,e5,Bxf3,Rxf3,Qb6,Rf7,dxe5,Rxd8+,Rxd8,Qxe5,c4,Kb1', 'Rd1+,Ka2,Qb3+,cxb3,cxb3#', 'https://lichess.org/training/23e0S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('23EUd', 'Blitz', 'cagrisavran', 1751, 'YellowTomato', 1749, 'e4,e5,Qh5,Nc6,Bc4,g6,Qd1,Nf6,d3,Bg7,Nf3,O-O,O-O,d6,Nc3,a6,h3,Na5,Bb3,Nxb3,axb3,c6,Be3,d5,exd5,cxd5,Bd2,e4,dxe4,dxe4,Nh2,b5,Bg5,Bb7,Ng4,Qxd1,Rfxd1,Nxg4,hxg4,h6,Be3,f5,Rd7,Bc8,Rc7,Be5,Re7,Bd6,Nxe4,Bxe7,gxf5,gxf5,Nd2,Bg5,Bxg5,hxg5,Nf3,g4,Ne5,Kg7,Rd1,Be6,Nc6,Rac8,Nd4,Bg8,Ne2,Rxc2,Nf4,Rxb2,Rd7+,Kf6,Ra7,Rb1+,Kh2,Rf7,Rxa6+,Kg5,Ne6+,Kh4', 'g3+,Kh5,Nf4+,Kg5,Rg6#', 'https://lichess.org/training/23EUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('23mTu', 'Rapid', 'ChessMasterSeelze', 1889, 'yesidsuazatorres2001', 1928, 'a3,Nf6,c4,e6,Nc3,d5,cxd5,exd5,g3,c6,Bg2,Bc5,d4,Bd6,Nf3,Nbd7,O-O,O-O,Bg5,Re8,Bxf6,Nxf6,h3,Bf5,e3,Qd7,Kh2,h5,Nh4,Bh7,Re1,Re7,Nf3,Rae8,Ng5,Bg6,h4,b5,Bh3,Qc7,Qf3,a5,Rad1,b4,axb4,axb4,Ne2,Ne4,Nxe4,Rxe4,Nf4,Bxf4,gxf4,Qe7,Qg3,Qf6,Qg5,Qd6,Kg1,Qe7,Qxe7,R8xe7,Bg2,R4e6,Bh3,Rf6,Ra1,Be4,Bg2', 'Rg6,f3,Bxf3', 'https://lichess.org/training/23mTu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('23qFi', 'Classical', 'SALEH-ABDULMUNEM', 2054, 'Mubiru9420', 1663, 'e4,e5,Nf3,Nc6,Bc4,Nd4,O-O,Nxf3+,Qxf3,Qf6,Qb3,Bc5,Nc3,d6,Nd5,Qg6,Nxc7+,Kf8,Nxa8,Qxe4,d3,Qg6,Be3,Bh3,g3,Qf6,Rfe1,Ne7,Bxc5', 'Qf3,Bd5,Nxd5,Qxd5,Qxd5', 'https://lichess.org/training/23qFi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('23tvi', 'Rapid', 'anto_007', 1889, 'keilormiso', 1838, 'e4,c5,f4,d5,e5,Bf5,d3,h6,g4,Bh7,Be3,d4,Bf2,e6,Bg2,Nc6,Na3,a6,Qf3,Be7,Nc4,Rc8,Ne2,b5,Nd2,Bh4,O-O,Bxf2+,Rxf2,Nge7,Ng3,O-O,f5,exf5,Nxf5,Nxf5,gxf5,Qe7,Qg3,Qxe5,Rf4,Qe3+,Qxe3,dxe3,Nf1,e2,Ng3,Nd4,c3,Nc2,Rc1,e1=Q+,Rxe1,Nxe1,Be4,Nc2,Kf2,b4,Bb7,bxc3,bxc3,Rb8,Bxa6,Rb2,Kf3,Ne1+,Ke4,Re8+,Kd5,Rxa2,Bc4,Ra5,Ne4,Ng2,Rf3,Nh4,Rg3,Nxf5,Nf6+,Kf8,Nxh7+,Ke7,Rf3,Rd8+,Kc6,Nd6', 'Re3+,Ne4,Rxe4#', 'https://lichess.org/training/23tvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('23wbX', 'Bullet', 'bad2play4', 1590, 'u-uprabhi', 1679, 'g4,e5,Bg2,c6,d4,exd4,Qxd4,d5,h4,Nf6,g5,Nfd7,Nc3,Nc5,Bf4,Ne6,Qe5,Bd6,Qxd6,Nxf4,Qxf4,O-O,O-O-O,Nd7,e4,Nc5,exd5,cxd5,Bxd5,Qa5,h5,Be6,Qc4,Rac8,Bxe6,Nxe6,Qb3,Qxg5+,Kb1,Qg2,Nge2,Qxf2,Rdg1,h6,Rd1,Rfe8,Rhf1,Qh2,Qxb7,Qxh5,Qf3,Qg6,Rg1,Qh7,Rdf1,Re7,Nd5,Rd7,Ndc3,Rcd8,a3,Nd4,Nxd4,Rxd4,Qxf7+,Kh8,Qxa7,Rd2,Rf7', 'Qxc2+,Ka1,Qxb2#', 'https://lichess.org/training/23wbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('248Un', 'Rapid', 'Wiajir14', 2276, 'AlvaroGonzalesMayta', 1900, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nc6,d5,Nb8,Nc3,Nf6,Bg5,h6,Bxf6,exf6,Rc1,f5,Bd3,fxe4,Bxe4,Be7,Nf3,O-O,O-O,Bg4,h3,Bxf3,Bxf3,Nd7,Re1,Bf6,Rc2,Rc8,Ne4,Be5,Rxc8,Qxc8,Re2,Nf6,Nxf6+,Bxf6,Rc2,Qd7,g3,Qxh3', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/248Un');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('24Bez', 'Blitz', 'elcan3796', 1858, 'Odiseo22', 1849, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,O-O,O-O,Re1,Bf5,Nc3,Nbc6,Kh1,f6,Bxf5,Nxf5,Nxd5,Bxh2,Nxf6+,Rxf6,Nxh2,Nfxd4,Bg5,Qd6,Bxf6,Qxf6,c3,Nf5,Qd5+,Kh8,Re6,Qf7,Rae1,g6,Ng4,Ng7,Nh6,Qf4,Re8+,Rxe8', 'Rxe8+,Nxe8,Qg8#', 'https://lichess.org/training/24Bez');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('24c00', 'Blitz', 'RicardoFagner', 2215, 'FM Lioni26', 2538, 'Nf3,Nf6,g3,d5,Bg2,c6,h4,Bf5,O-O,e6,d3,Be7,Nbd2,O-O,c3,h6,Qb3,Qb6,e4,dxe4,dxe4,Nxe4,Nxe4,Bxe4,Be3,Qxb3,axb3,a6,Rfd1,Rd8,Rxd8+,Bxd8,Rd1,Be7,Bf4,a5,Bc7,Bc2,Rd4,Bxb3,Ne5,Bf6,f4,Bd5,c4,Bxg2,Kxg2,Na6,Bxa5,Nc5,Bc3,Rd8,Rxd8+,Bxd8,Bd4,Ne4,Kf3,Nd2+,Ke3,Nb3,Kd3,Nxd4,Kxd4,Bf6,Ke4,Bxe5', 'Kxe5,Kf8,Kd6', 'https://lichess.org/training/24c00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('24i4r', 'Rapid', 'pakpahanguntur', 1966, 'LeoZagaglia', 1924, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Bd3,Nc6,Nf3,e6,Nc3,Be7,h3,a6,a3,b5,g4,h6,Rg1,Qb6,Be3,Bb7,Qc2,Qc7,g5,hxg5,Nxg5,Rc8,Qe2,Nh5,Qf3,Bxg5,Rxg5,g6,Rc1,Qe7,Ne2,Kd7,Rg1,Qf6,Qg4,Nxd4,Bxd4', 'Rxc1+,Kd2,Rxg1', 'https://lichess.org/training/24i4r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('24IE4', 'Classical', 'idin2120', 1658, 'anri433', 1728, 'f4,d5,e3,Nc6,c3,Nf6,d3,Bf5,Nf3,e6,Be2,Bc5,Nh4,Ne7,Nxf5,Nxf5,d4,Be7,Bd3,Ne4,g4,Bh4+,Ke2,Nf2,Qf1,Nxh1,gxf5,Nf2,fxe6,fxe6,Bd2,Nxd3,Kxd3,Qd7,Qh3,Bf6,Na3,Kf7,c4,dxc4+,Nxc4,Qb5,a4,Qb3+,Bc3,a6,e4,Rhd8,e5,Be7,Qxh7,c5,Rg1,Rxd4+,Ke3,Rg8,Qg6+,Kf8,Qxe6,Rxc4,Qf5+,Ke8,Qc8+,Kf7,Qf5+,Ke8,Qc8+,Bd8,Qe6+,Kf8,Qd6+,Be7', 'Qb8+,Kf7,e6+,Kxe6,Qxg8+', 'https://lichess.org/training/24IE4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('24MA5', 'Blitz', 'FM JustAnAppleToday', 2445, 'ykskakskol', 2487, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,O-O,a3,Bxc3+,bxc3,d5,cxd5,Nxd5,e4,Nxc3,Qb3,Qxd4,Bb2,Qe3+,Be2,Nd5,Qxe3,Nxe3,Kf2,Nxg2,Kxg2,b6,Kf2,c5,f4,Bb7,Ke3,Nd7,Nf3,Nf6,Rhg1,Kh8,Rxg7,Kxg7,Rg1+,Kh6,Bxf6,Rg8,Rg5,Rg6,Ne5,Rxf6', 'Ng4#', 'https://lichess.org/training/24MA5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('24mgj', 'Rapid', 'KANALI', 1757, 'hobiii', 1734, 'e4,Nc6,Nf3,e5,Bc4,Bc5,c3,Nf6,d3,h6,O-O,d6,Be3,Bb6,Bxb6,axb6,Nbd2,Bg4,h3,Bh5,d4,Na5,Bd3,exd4,cxd4,Nc6,e5,Nd5,e6,Nxd4,Be4,Nf6,exf7+,Kxf7,Bxb7,Ra5,Nc4,Nxf3+,gxf3,Rf5,Qd3,Qd7,Rae1,Rf8,Qb3,d5,Ne5+,Rxe5,Rxe5,Kg8,Rfe1,Kh7,Re7,Qxh3,Rxc7', 'Bxf3,Qxf3,Qxf3', 'https://lichess.org/training/24mgj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('24oSf', 'Rapid', 'wwwtor', 1790, 'aaa111213', 1758, 'e4,e6,Nf3,c5,c3,Nc6,d4,cxd4,cxd4,Nge7,Nc3,d5,e5,Nf5,Be3,Bd7,Bd3,a6,Bxf5,exf5,h3,Be6,a3,Be7,Rc1,O-O,O-O,Rc8,b4,b5,Qb3,f6,a4,bxa4,Qxa4,fxe5,dxe5,Nxe5,Nd4,Qd6,b5,axb5,Ncxb5,Qd7,Rxc8,Rxc8,Qa6,Nc6,Nxe6,Qxe6,Re1,Nd8,Qa1,Qg6,Qe5,Bb4,Rd1,Kh8,Qxd5,Nf7,Nd4,Rd8,Qxf5', 'Qxf5,Nxf5,Rxd1+', 'https://lichess.org/training/24oSf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('251HT', 'Blitz', 'PacoFernandez', 1572, 'Fedels', 1562, 'd4,d5,Nf3,Nc6,Bf4,Bf5,c3,Nf6,Nbd2,e6,e3,Bd6,Bxd6,Qxd6,Nh4,O-O,Nxf5,exf5,Bb5,Ne7,Nf3,Ng6,O-O,Ne4,Qc2,f4,Bd3,fxe3,fxe3,Rae8,Rae1,f5,c4,c6,c5,Qc7,Nd2,f4,Nxe4,dxe4,Bxe4,fxe3,Rxe3,Rxf1+,Kxf1,Qxh2,Qf2,Rf8,Rf3,Rxf3,Qxf3,Nf4,Qb3+,Kh8,Qf3,Qh1+,Kf2,Qh4+,Ke3,Qe1+,Kxf4,Qh4+,g4,Qh2+,Kg5', 'Qh6+,Kf5,Qf6#', 'https://lichess.org/training/251HT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25agm', 'Classical', 'knotsknots', 2002, 'Dirk52', 1927, 'd4,c5,d5,d6,c4,b5,cxb5,a6,bxa6,Bxa6,Nc3,g6,e4,Bxf1,Kxf1,Nd7,f4,Bg7,Nf3,Nh6,Qd3,O-O,Bd2,Qc8,a4,Ng4,h3,c4,Qe2,Nh6,g4,f6,Kf2,Nf7,Rhb1,g5,b4,gxf4,b5,Nfe5,a5,Nd3+,Kg2,N7e5,a6,h5,gxh5,Kh8,b6,Bh6,b7,Rg8+,Kh2,Nxf3+,Qxf3,Ne5,Qf1,Ng4+,hxg4,Qxg4,bxa8=Q', 'Qg3+,Kh1,Qh4+,Qh3,Qxh3#', 'https://lichess.org/training/25agm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25aHM', 'Rapid', 'Izes', 2051, 'MEV_KSK', 2012, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,c5,e3,b6,Be2,Bb7,Bf3,Qc7,Rb1,Nc6,e4,d6,Bg5,Na5,Bxf6,gxf6,d5,Nxc4', 'Qa4+,Qd7,Qxc4', 'https://lichess.org/training/25aHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25Aky', 'Rapid', 'StariTatko', 1659, 'DannyKong', 1919, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,O-O,d5,d3,Ba6,Re1,Nf6,Bg5,Be7,Nc3,Rb8,b3,O-O,Na4,Nd7,Bxe7,Qxe7,c4,Qd8,h3,Nb6,Nxc5,Bb7,Nxb7,Rxb7,Ne5,Qc7,Nf3,Rd8,Rc1,h6,cxd5,exd5,exd5,Nxd5,Re5,Nb4,a3', 'Nxd3,Re3,Nxc1', 'https://lichess.org/training/25Aky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25ba1', 'Blitz', 'Blaz58', 1930, 'blutourist', 1902, 'e4,c5,c4,g6,Nc3,Bg7,Nf3,d6,Be2,Nf6,d3,Nc6,O-O,O-O,a3,Bd7,h3,a6,Be3,Rb8,Rb1,b5,Nd5,bxc4,Nxf6+,Bxf6,dxc4,Rxb2,Rxb2,Bxb2,Ng5,Bxa3,h4,Bb2,h5,Bg7,hxg6,hxg6,f4,Nd4,Bxd4,Bxd4+,Kh1,Kg7,Nh3,Rh8,Bg4,Qc8,f5,e6,fxg6,fxg6,Qf3,Rf8,Qe2,Rxf1+,Qxf1,e5,Bxd7,Qxd7,Ng5,Be3,Nh3,Qf7,Qd3,Bd4,Ng5,Qf6,Qg3,Qf1+,Kh2,Kf6,Nf3,Qc1,Qh4+,Kg7,Qe7+,Kh6,Qf8+,Kh5', 'Qh8+,Qh6,g4+,Kxg4+,Qxh6', 'https://lichess.org/training/25ba1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25DYQ', 'Rapid', 'Maybach77', 2268, 'ariji', 2046, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,O-O,Nf6,d4,exd4,cxd4,O-O,d5,Ne7,e5,Ne8,d6,cxd6,exd6,Nf5,Bg5,Qb6,Be7,Nexd6,Bxf8,Nxc4,Ba3,d5,Qxd5,Be6,Qc5,Qa6,Nd4,Bb6,Nxe6,Bxc5,Nxc5,Qc6,Rc1,Nxa3,Nxa3,Rc8,h3,Nd4,Kh1,g6,Nb3,Qd7,Rxc8+,Qxc8,Nxd4,Qc3,Nb3,Qb2,Nc4,Qxf2,Nd6,b6,Ne4,Qb2,Rf1,Qxa2,Nd4,f5,Ng5,Qc4,Rd1,b5', 'Nde6,Qc8,Rd8+,Qxd8,Nxd8', 'https://lichess.org/training/25DYQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25eg4', 'Blitz', 'Knight_of_the_Sword', 2033, 'empati52', 2010, 'c4,e5,Nc3,Nc6,e4,Bc5,Nf3,d6,d3,Nge7,Be2,f5,Bg5,h6,Bxe7,Qxe7,Nd5,Qd8,O-O,O-O,Qd2,a5,h3,Nd4,Nxd4,Bxd4,Kh2,fxe4,dxe4,Bxf2,Bh5,Qh4,Qe2,Bxh3,gxh3', 'Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/25eg4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25Iig', 'Rapid', 'Ceyhun82', 1700, 'sharonez', 1683, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bg5,c6,Bd3,Bd6,Nge2,O-O,O-O,Nbd7,Qd2,Qc7,Ng3,Qd8,Nce2,h6,Be3,Ng4,Nf5,Bxh2+,Kh1,Qf6,f3,Nxe3,Qxe3,Bc7,c4,dxc4,Bc2,c5,Qe4,Ne5', 'Ne7+,Qxe7,Qh7#', 'https://lichess.org/training/25Iig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25KUf', 'Rapid', 'amazingpudding', 1717, 'ESS2005', 1672, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Bc4,e5,Nf5,Bxf5,exf5,Qc8,Bd3,Qc6,f3,Nbd7,Be3,Nc5,Bc4,Be7,Qd2,O-O,O-O-O,b5,Bd3,h5,h4,d5,Bg5,d4,Ne4,Nfxe4,fxe4,Bxg5,hxg5,f6,a4', 'Nb3+,Kb1,Nxd2+', 'https://lichess.org/training/25KUf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25lvR', 'Rapid', 'Gabex2me', 1892, 'Turhan77', 1897, 'd4,e6,e4,d5,Bd3,c5,c3,c4,Bc2,Nc6,Nf3,Be7,O-O,b6,Re1,Nf6,e5,Nd7,b3,b5,a4,bxa4,Rxa4,Nb6,Ra1,cxb3,Bxb3,Rb8,Bc2,Nc4,Nbd2,N6a5,Nxc4,Nxc4,Rxa7,O-O,Rxe7,Qxe7,Bxh7+,Kxh7,Ng5+,Kg6,Qd3+,f5,Qg3,Rh8,Nxe6+,Kf7', 'Qxg7+,Kxe6,Qxh8', 'https://lichess.org/training/25lvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25Ps6', 'Rapid', 'BigBlackGian', 1978, 'vladimir11v', 1978, 'd4,g6,g3,Bg7,Bg2,d6,Nf3,Nf6,O-O,O-O,c4,c6,Nc3,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Nh2,Nd7,Nxg4,e5,dxe5,Qh4,e3,h5,Nf6+,Nxf6,exf6,Bxf6,Qf3,Be5,Qh3,Qxc4,Bd2,f5,Rfc1,Qf7,f4,Bg7,Qg3,Rae8,Bf3,d5,Rcb1,Bh6,Bxh5,Kh8,Qxg6', 'Rg8,Kf2,Rxg6,Bxg6,Qxg6', 'https://lichess.org/training/25Ps6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25qJ8', 'Blitz', 'ArnieChipmunk', 2379, 'Dzain1', 2363, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Qh5,Nxc3,Bc4,e6,bxc3,Be7,d4,O-O,h4,b6,Bd3,f5,Nf3,Bb7,Ng5,h6,Qg6,hxg5,hxg5,Bxg2,Rh8+,Kxh8,Qh5+,Kg8', 'g6,Rf6,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/25qJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25saa', 'Blitz', 'ekdubov', 2226, 'IM pollovsky', 2315, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,a6,Bc4,Bg4,Be3,Nc6,Qd2,Bxf3,gxf3,e5,d5,Ne7,O-O-O,Ng6,h4,Qb4,Bb3,Bd6,a3,Qa5,Kb1,Ne7,h5,h6,Rhg1,Nxh5,Qd3,f5,Qf1,g5,Qh3,Nf4,Bxf4,gxf4,Qh5+,Kd8,Rg7,Qc5,Rdg1,Qxf2,Ba4,b5,Bb3,Rb8,Qf7,Re8,Rh1,a5,Rxh6,Qf1+,Ka2,a4,Nxa4,bxa4,Bxa4,Qc4+,Bb3,Rxb3,cxb3,Qxd5,Qxd5,Nxd5,Rhh7,Ne7,Rh1,Kd7,Re1,Rg8,Rxg8,Nxg8,Rd1,Nf6,a4,Ke6,a5,Bc5,Rc1,Ba7', 'Rc6+,Ke7,Rxc7+,Kd6,Rxa7', 'https://lichess.org/training/25saa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25sG4', 'Rapid', 'yoyo1370', 2166, 'Kaled', 2164, 'c4,c5,e3,Nf6,b3,Nc6,Bb2,e6,Nf3,d5,cxd5,exd5,d4,cxd4,Nxd4,Nxd4,Qxd4,Be7,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,Nd2,Rac8,Rac1,Nh5,Ne4,f5,Ng3,Bf6,Qd2,Bxb2,Qxb2,Nxg3,hxg3,Qe6,Qd4,b6,Rfd1,Rfd8,Rxc8,Rxc8,Qxd5,Qxd5,Rxd5,Rc1+,Kh2,Rc2,Rxf5,Rxa2,g4,Rb2,Kg3,Rxb3,g5,g6,Rf6,a5,Rf4,b5,Rd4,b4,Rd7,a4,Ra7,a3,Kf3,Rb2,g4,a2,e4,b3,Ke3,Rb1,Ra8+,Kf7,Ra7+,Ke6,Ra6+,Ke5', 'f4#', 'https://lichess.org/training/25sG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25vXc', 'Rapid', 'itskunalhere', 1779, 'MR_LAWLIET', 1914, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,b4,Bb6,a4,a6,a5,Ba7,h3,b5,axb6,cxb6,b5,axb5,Bxb5,Re8,Bg5,Bb7,g4,h6,Bxh6,gxh6,Qd2,Kh7,g5,Nh5,gxh6,Nf4,Rg1,Rg8,Rxg8,Qxg8,Na3,f6,O-O-O,Qb3,Qb2,Ne2+,Qxe2,Qxc3+,Nc2,Bb8,Nd2,Bd6,Nb1,Ra1,Qd2', 'Ba3#', 'https://lichess.org/training/25vXc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25wfn', 'Rapid', 'fedara', 2050, 'Hannibal__Lecter', 2020, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e6,Be3,Be7,Be2,Nc6,Qd2,O-O,g4,Nxd4,Bxd4,e5,Be3,b5,a3,Bb7,O-O-O,Rc8,Rdg1,Nd7,g5,Nb6,h4,Nc4,Bxc4,Rxc4,h5,b4,axb4,Rxb4,g6,Qa5,Qg2,Bf6,gxh7+,Kxh7,Qg4,Bc8,Qg2,Qa1+,Kd2,Qxb2,Nd5,Rc4', 'Nxf6+,gxf6,Qg7#', 'https://lichess.org/training/25wfn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('25xPu', 'Bullet', 'pacochen', 1858, 'O-Dannyboy', 1986, 'e4,e5,Nc3,Nc6,Nf3,Nf6,Bc4,d6,d4,exd4,Nxd4,Be7,Bf4,O-O,Qd2,Nh5,Be3,Ne5,Be2,Nf6,f3,c6,O-O-O,b5,h4,b4,Nb1,Qa5,h5,Qxa2,g4,c5,Nb3,Be6,g5,Nfd7,f4,Nc4,Bxc4,Bxc4,g6,Nb6,h6,Bf6,Qxd6,Qxb2+,Kd2,Rad8,gxh7+,Kxh7,hxg7+,Kxg7', 'Rdg1+,Bg5,Rxg5#', 'https://lichess.org/training/25xPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('26ktE', 'Rapid', 'comic', 1749, 'Blazon', 1604, 'd4,e6,Bf4,c5,e3,cxd4,Qxd4,d5,Nf3,Nc6,Bb5,Bd7,Bxc6,bxc6,O-O,Qb6,c4,Nf6,Qxb6,axb6,cxd5,exd5,Be5,Be7,Nbd2,O-O,a3,b5,b4,Rad8,Rac1,Rfe8,h3,Ra8,Rc3,Ne4,Nxe4,dxe4,Nd4,Bxb4,axb4,Rxe5,Nxc6,Bxc6,Rxc6,f5,Rfc1,h6,R1c5,Rae8,Rc8,Rxc8,Rxe5,Rc1+,Kh2,Rf1,Kg3,g6,Rxb5,h5,Rb7,g5,b5,Rh1,b6', 'h4#', 'https://lichess.org/training/26ktE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('26lMe', 'Classical', 'ichglaubeshackt', 1997, 'millerso', 1917, 'e4,c5,c3,e6,d4,d5,e5,Nc6,f4,Qb6,Nf3,Nge7,b3,cxd4,cxd4,Nf5,Bb2,Bb4+,Kf2,O-O,g4,Nh6,h3,f6,Kg3,fxe5,fxe5,Bd7,Bg2,Rf7,Na3,a6,Nc2,Be7,Qd3,Raf8,Rhf1,Nb4,Nxb4,Bxb4,Ng5,Rxf1', 'Qxh7#', 'https://lichess.org/training/26lMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('26TME', 'Rapid', 'Marty_76', 1611, 'ulises915', 1641, 'e4,d5,e5,Nc6,d4,Bf5,Nf3,h6,Bd3,Bg4,h3,Bxf3,Qxf3,Nxd4,Qf4,Ne6,Qa4+,c6,Nc3,Nc5,Qd4,e6,O-O,b6,b4,Nxd3,Qxd3,Bxb4,Nb5,Bc5,Nd4,Bxd4,Qxd4,c5,Qg4,g5,Re1,Ne7,c3,Ng6,Be3,Nxe5,Qa4+,Kf8,Bd2,Nd3,Re3,c4,Rb1,Qf6,Rf1,h5,Qc6,Kg7,Qd7,g4,f3,gxh3,gxh3,Qg6+,Kh2,h4', 'Rg1,Qg3+,Rxg3+', 'https://lichess.org/training/26TME');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('26Vl0', 'Rapid', 'inyourface313', 1682, 'AlisKnight', 1757, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,d3,Nf6,Nc3,a6,Ba4,Be7,Bg5,h6,Bxf6,Bxf6,Nd5,Bg4,h3,Bh5,c3,O-O,Bb3,Ne7,Nxf6+,gxf6,d4,Kh8,Qd3,Rg8,g4,Bg6,Nh4,Rg7,f4,Bh5,fxe5,Bxg4,hxg4,Rxg4+,Ng2,Qg8,Rf2,Qg5,Raf1,Rg8,Qd2', 'Rxg2+,Rxg2,Qxd2', 'https://lichess.org/training/26Vl0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('26W7c', 'Rapid', 'ErkinBaltaev', 1671, 'Kemalbezirogluile', 1662, 'd4,d5,g3,Nc6,Bg2,Bf5,a3,e6,Nc3,Bd6,Nf3,Nge7,O-O,Qd7,Nb5,a6,Nxd6+,Qxd6,Bf4,Qd7,Ne5,Nxe5,dxe5,O-O,c3,f6,exf6,Rxf6,Qc1,Ng6,Be3,Raf8,Bd4,e5,Be3,Bh3,Bh1,Bxf1,Qxf1,d4,cxd4,exd4,Rd1,dxe3', 'Rxd7,exf2+,Kg2', 'https://lichess.org/training/26W7c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('26zDk', 'Rapid', 'oussama410', 1848, 'youcefchesss', 2093, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nxc3,Nf6,Nf3,Be6,Bd3,Nc6,O-O,Be7,Re1,Ng4,h3,Nge5,Nxe5,Nxe5,f4,Nxd3,Qxd3,O-O,f5,Bd7,Qg3,Bf6,Nd5,c6,Nxf6+,Qxf6,Bf4,Rfe8,Bxd6,Rad8,Bc7,Rc8,b3,c5,Rad1,Bc6,Rd6,Qe7', 'f6,Qxf6,Rxf6', 'https://lichess.org/training/26zDk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('27Def', 'Rapid', 'ParetoFrontiersman', 1787, 'PassThrough', 1841, 'd4,d5,Bf4,Nf6,Nc3,e6,e3,c5,Bb5+,Nc6,Nf3,cxd4,exd4,Ne4,Nxe4,dxe4,Ne5', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/27Def');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('27Gm9', 'Rapid', 'Flipsos', 1649, 'slon1977', 1682, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,a6,O-O,e6,d4,cxd4,Nxd4,b5,Bd3,Bb7,Bg5,Be7,Bxf6,Bxf6,Nf3,b4,Ne2,Bxb2,Rb1,Bc3', 'Nxc3,bxc3,Rxb7', 'https://lichess.org/training/27Gm9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('27JkX', 'Blitz', 'Adermo', 2184, 'FM RobPeresian', 2444, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,Nc6,d4,cxd4,Nxd4,e6,O-O,Be7,a3,O-O,Be3,a6,Ba2,Nxd4,Bxd4,b5,Qe2,Bb7,Rad1,Qc7,e5,dxe5,Bxe5,Qc6,f3,Rad8,Kh1,h5,Qf2,Rxd1,Rxd1,Rd8,Rxd8+,Bxd8,Qd4,Qd7', 'Bxf6,Qxd4,Bxd4', 'https://lichess.org/training/27JkX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('27JQP', 'Blitz', 'Ayoallu', 1537, 'chaudag', 1539, 'd4,d5,e3,e6,f4,Bd6,Nf3,Nf6,Nbd2,O-O,c3,Nc6,Ne5,Nxe5,fxe5,Ne4,exd6,cxd6,Nxe4,dxe4,Bd2,e5,dxe5,dxe5,Be2,Qh4+,g3,Qf6,Rf1,Qh6,Qc2,Bf5,h4,Bh3,Rg1,Qf6,O-O-O,Qe6,Kb1,a5,a3,a4,Ka1,f5,Rh1,Bg2,Rhg1,Bf3,Rde1,Rfd8,Qd1,b5,Bxf3,exf3,Rgf1,e4,Qc1,Qb3,Kb1,Rd3,Qc2,Qc4,Rd1,Rad8,Qc1,Rxd2,Rxd2,Rxd2,Rd1,Rxd1,Qxd1,Qe2,Qd8+,Kf7,Qd7+,Kf6,Qd6+,Kf7,Qd5+,Kg6', 'Qe6+,Kh5,Qxf5+,g5,Qxg5#', 'https://lichess.org/training/27JQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('27l5s', 'Rapid', 'eph2019', 1628, 'relevantfnatic', 1633, 'e4,g6,Nc3,Bg7,d4,c6,Be3,a6,h4,Nf6,f3,d6,Bd3,Nh5,g4,Nf6,g5,Nh5,Be2,e5,Qd2,b5,O-O-O,b4,Nb1,a5,c3,Ng3,Rh2,Nxe2+,Nxe2,bxc3,Nexc3,O-O,h5,exd4,Bxd4,Bxd4,Qxd4,Qxg5+,Nd2,d5,hxg6,fxg6,Rdh1,h5,exd5,cxd5,Nxd5,Rxf3,Qe4,Rf8,Ne7+,Kg7,Qxa8,Qxe7,Qxb8', 'Qc5+,Kb1,Bf5+,Ka1,Rxb8', 'https://lichess.org/training/27l5s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('27V2x', 'Classical', 'alexden87', 1798, 'PvovaN', 1821, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Bc5,O-O,Qd6,d3,h6,c3,Bb6,Na3,Be6,d4,f6,dxe5,fxe5,Nd2,O-O-O,b3,Qe7,Qe2,Nf6,Ndc4,Bxc4,Nxc4,Ba7,Kh1,g5,f3,Nh5,Kh2,Nf4,Bxf4,gxf4,Kh1,Rhg8,Rad1,b5,Rxd8+,Rxd8,Na5,Qc5,Rc1,Qb6,b4,c5,Nb3,c4,Nc5,Qc6,Qf2,a5,a3,Rd3,Rc2,Rd1+,Kh2,Qg6,Rd2,Rxd2,Qxd2,Bxc5,bxc5,Qc6,Qf2,Qd7,h4,Qd3,c6,Qd6,Qa7,Qxc6,Qxa5,Kd7,Qb4,Qa6,g4,Qb6,Kg2,c5,Qb2,Ke6,Qd2,Qd6,Qc2,Qd3,Qb2,b4,axb4,cxb4,Qxb4,Qe2+,Kg1,Qe1+,Kh2,Qxh4+,Kg1,Qg3+,Kf1,Qxf3+,Kg1,Qxg4+,Kf1,Qf3+,Kg1,Qxe4,Qb6+,Kf5,Qxh6,Qe3+,Kf1,Qg3,Qh7+,Qg6,Qd7+,Kg5,Qe7+,Qf6,Qc5,Kg4,Qxc4,Qf5,Qg8+,Kf3', 'Qg2+,Ke3,Qe2#', 'https://lichess.org/training/27V2x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('27ypD', 'Rapid', 'mateo58', 1706, 'engineerick07', 1729, 'd4,d5,Bf4,Nc6,e3,Nf6,Bd3,b6,c3,Bb7,Nf3,h6,h3,g5,Bh2,Bg7,h4,gxh4,Nxh4,Ne4,Nf5,Bf6,Nd2,e6,Ng3,Nxg3,Bxg3,Qe7,Qc2,e5,dxe5,Nxe5,O-O-O,Nxd3+,Qxd3,O-O-O,Nb3,d4,cxd4,Bxg2,Rhg1,Bf3', 'Qf5+,Qe6,Qxf3', 'https://lichess.org/training/27ypD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('27YY5', 'Rapid', 'Fuegoverde', 2023, 'JohnTex9', 1946, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Nc3,Bb4,h3,Ngxe5,Nxe5,Nxe5,e4,d6,Qc2,O-O,Be2,f5,O-O,fxe4,Nxe4,Bf5,f3,d5,cxd5,Qxd5,Be3,Bxe4,fxe4,Qd6,Rad1,Rxf1+,Bxf1,Qe7,Bf4,Bd6,Qb3+,Kh8,Qxb7,Bc5+,Kh1,Rf8,Bg3,Bb6,a3,Ng6,Qd5,Re8,Bd3,Rd8,Qc4,Ne5,Bxe5,Qxe5,Qc2,Rf8,Rf1', 'Rxf1+,Bxf1,Qd4,Kh2,Qg1+', 'https://lichess.org/training/27YY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('284iz', 'Classical', 'agreyes305', 1892, 'Melag', 1636, 'd4,d5,c4,dxc4,Nf3,c6,a4,Be6,e3,h6,Nc3,Nf6,Be2,Na6,Ne5,Nc7,Nxc4,Bxc4,Bxc4,e6,O-O,Ncd5,Qe2,Be7,Rd1,O-O,f4,Nb6,Bd3,Kh8,f5,Qd7,Rf1,Bd6,Ne4,Nxe4,Bxe4,Nd5,Bd2,Nf6,Bd3,e5,dxe5,Bxe5,Bc3,Bxc3,bxc3,Rad8,Rad1,Qe7,e4,Rfe8,Kh1,Nxe4,Bxe4,Qxe4', 'Qxe4,Rxe4,Rxd8+', 'https://lichess.org/training/284iz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('28d56', 'Rapid', 'laci43', 1844, 'H_Paranoia', 1862, 'd4,c6,h3,d5,Bf4,Bf5,a3,e6,e3,Nf6,Bd3,Bxd3,Qxd3,Nbd7,Nc3,c5,Qb5,Qb6,Qxb6,axb6,dxc5,bxc5,Na2,b5,c3,Nb6,Nf3,Nc4,Rb1,Bd6,Bxd6,Nxd6,Ne5,O-O,O-O,Ra7,Nc1,Nc4,Nxc4,bxc4,Ne2,Rb7,Rfc1,Rfb8,Rc2,Ne4,f3,Nd6,Ng3,Nb5,a4', 'Na3,bxa3,Rxb1+', 'https://lichess.org/training/28d56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('28D6R', 'Rapid', 'robby62', 1634, 'meAnonymous', 1608, 'e4,e6,d4,d5,e5,Nc6,c3,Nge7,Nf3,Ng6,Bd3,Be7,Bxg6,hxg6,O-O,Bh4,Nxh4,Qxh4,h3,Bd7,Nd2,O-O-O,Nf3,Qh7,Ng5,Qg8,Qf3,Rf8,a4,f6,exf6,gxf6,b4,fxg5,Bxg5,Rf5,Qe3,Rh5,Bf4,Qf7,b5,Na5,Be5,Nc4,Qe2,Nxe5,dxe5,Rxe5,Qd1,Reg5,Kh1,e5,b6,cxb6,a5,bxa5,Rxa5,a6,Rxd5,Bxh3', 'Rd8+,Kc7,Qd6#', 'https://lichess.org/training/28D6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('28FRt', 'Rapid', 'Pemba2', 2088, 'SimBy', 2129, 'd4,c5,d5,e5,c4,d6,Nc3,Be7,f4,exf4,Bxf4,Bg5,Qd2,Bxf4,Qxf4,Qf6,Qxf6,Nxf6,e4,a6,a4,Nbd7,Nf3,O-O,e5,Nxe5,Nxe5,dxe5,Be2,Ne8,O-O,Nd6,Rae1,f5,g4,g6,h4,Bd7,Kh2,fxg4,Kg3,Nf5+,Kh2,Nxh4,Ne4,Nf3+,Bxf3,Rxf3', 'Rxf3,gxf3,Nf6+,Kg7,Nxd7', 'https://lichess.org/training/28FRt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('28HQ2', 'Blitz', 'alexolll57', 2170, 'BBClover', 2278, 'e4,e6,d4,d5,Nd2,Nc6,exd5,exd5,Ngf3,Nf6,c3,Bd6,h3,O-O,Be2,Bd7,O-O,Re8,Bd3,h6,Nb3,b6,Bd2,Ne4,Be3,a5,a4,f5,g3,Nxg3,fxg3,Rxe3,Kf2,f4,g4,h5,Rg1,Be7,Be2,Bh4+,Kf1,Bg3,Qd2,Qe7,Rg2,Re8,Rd1,hxg4,hxg4,Bxg4,Nc1,Bxf3,Bxf3,Re1+,Rxe1', 'Qxe1+,Qxe1,Rxe1#', 'https://lichess.org/training/28HQ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('28lgz', 'Blitz', 'Eamo1989', 1580, 'Hussein_Fischer', 1574, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qa5,Bd3,cxd4,O-O,dxc3,Nxc3,d4,Nb5,a6,Nd6+,Bxd6,exd6,Nf6,Bg5,Nd5,Bc4,O-O,Nxd4,Nxd4,Qxd4,h6,Bh4,b6,a3,Bb7,b4,Qa4,Be7,Nxe7,dxe7,Rfb8,Rfd1,b5,Be2,Qc2,Bd3,Qc7,Qc5,Qf4,Rac1,Qg4,g3,Qf3,Kf1,Rc8', 'Qxc8+,Rxc8,Rxc8+,Bxc8,e8=Q#', 'https://lichess.org/training/28lgz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('28ofd', 'Blitz', 'Ashkael', 1582, 'BlackLion19', 1587, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d4,d5,Nc3,Nxc3,bxc3,Qxe2+,Bxe2,Bd6,O-O,O-O,c4,Be6,c5,Be7,Ne5,Nd7,f4,c6,Rb1,Rab8,Bd3,Nxe5,fxe5,f6,exf6,Bxf6,c3,Rf7,Bf4,Rbf8,Rbe1,Bc8,Bd6,Rd8,Bf5', 'Bxf5,Rxf5,Bxd4+,cxd4,Rxf5', 'https://lichess.org/training/28ofd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('28WR1', 'Classical', 'bencornell4', 1672, 'Peon69', 1702, 'e4,e6,d4,d5,e5,Bb4+,c3,Ba5,b4,Bb6,a4,a5,Nf3,axb4,cxb4,Bd7,a5,Ba7,Nc3,Nc6,b5,Nxa5,Rxa5,Bxd4,Rxa8,Bxc3+,Bd2,Bxd2+,Qxd2,Qxa8,Bd3,Qa1+,Qd1,Qxd1+,Kxd1,Ne7,Kd2,O-O,Rc1,c6,b6,Ra8,Ng5,h6,Nf3,Ra2+,Kd1,Rxf2,Ra1,Rxg2,Ra7,Bc8,Ba6,bxa6,Rxe7,Rb2,Re8+,Kh7,Rxc8,Rxb6,Nd4,Rb2,Rxc6,Rxh2,Rxa6,Rh5,Ra7,Kg6,Nc6,Rg5,Ne7+,Kh7,Nc6,f5,Re7,Rg6,Nd4,h5,Nxe6,h4', 'Nf8+,Kh6,Nxg6', 'https://lichess.org/training/28WR1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('28z93', 'Blitz', 'Jojofoz', 2244, 'bjoernsen', 2389, 'e4,c6,Nc3,d6,Nf3,Nf6,e5,dxe5,Nxe5,Bf5,d4,e6,Bg5,Be7,Bc4,O-O,O-O,Nbd7,Nxd7,Qxd7,Bd3,Bxd3,Qxd3,Rad8,Ne2,c5,Bxf6,Bxf6,dxc5,Qxd3,cxd3,Rxd3,Rad1,Rxd1,Rxd1,Bxb2,Rb1,Ba3,Rxb7,Bxc5,g3,g5,Nc3,h6,Ne4,Bb6,Kg2,Rc8,Nf6+,Kg7,Nh5+,Kg6,g4,Rc2,Kf3,Rxf2+,Ke4,Rxh2,a4,Ra2,Rd7,Rxa4+,Kf3,Ra3+,Kg2,Ra2+,Kf3,Rf2+,Kg3,Rc2,Rb7,Bc7+,Kf3,a5,Ra7,Rc4,Ra8,a4', 'Rg8+,Kh7,Nf6#', 'https://lichess.org/training/28z93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('290aj', 'Classical', 'Petr42', 1808, 'bozoou', 1888, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Qh4,Nd2,Nf6,g3,Qg4,Be2,Qh3,N4f3,O-O,Bf1,Qe6,Bd3,Nxe4,O-O,d5,Nxe4,dxe4,Ng5,Qg4,Nxe4,Bb6,Bf4,h6,Be2,Qh3,Bf3,Be6,Bg2,Qf5,Kh1,Rad8,Qe2,Ne5,Bxe5,Qxe5,f4,Qa5,a3,Rfe8,Rfd1,Bd5,Rd2,Bxe4,Bxe4', 'Rxd2,Qxd2,Rxe4,Qd8+,Kh7', 'https://lichess.org/training/290aj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('293Jh', 'Rapid', 'cypher7', 1967, 'Heartless_MF', 2039, 'd4,Nf6,c4,c5,d5,b5,Nf3,bxc4,Nc3,g6,e4,d6,Bxc4,Nbd7,O-O,Bg7,Re1,Ng4,h3,Nge5,Nxe5,Nxe5,Bb5+,Bd7,Bxd7+,Qxd7,f4,Nc4,Qd3,Nb6,a4,O-O,a5,c4,Qf3,Nc8,e5,Rb8,e6,fxe6,dxe6,Qb7,Qxb7,Rxb7,Nd5,Rb5,Nc3,Rb3,Nd5,Bxb2,Bxb2,Rxb2,Rec1,Rf5,Ne3,Rxf4,Nxc4,Re2,Ne3,Rxe3,Rxc8+,Kg7,Rc7,Rxe6,Rxa7,Re2,a6,Rff2', 'Rxe7+,Rxe7,Kxf2', 'https://lichess.org/training/293Jh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('298PB', 'Rapid', 'siddu198', 1806, 'laertis1312', 1798, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Nc6,Qxe5,Nxe5,Bb5+,c6,d4,cxb5,dxe5,e6,Nxb5,Bb4+,c3,Ba5,b4,Bb6,Be3,Bd7,Nd6+,Ke7,Bxb6,axb6,Nxb7', 'Bc6,f3,Bxb7', 'https://lichess.org/training/298PB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('299Ii', 'Classical', 'stinkydinky6969', 1647, 'FabioPortela', 1662, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Nd5,e6,Nxf6+,Qxf6', 'Bg5,Qxg5,Nxg5', 'https://lichess.org/training/299Ii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('29BsA', 'Rapid', 'EvaEsteba_UNAP', 1721, 'ALCDSMuchica_EPIER', 1761, 'd4,Nf6,Nf3,e6,Bf4,Be7,e3,O-O,Bd3,Nh5,Bg3,Nxg3,fxg3,c5,c3,cxd4,exd4,Nc6,Qc2,f5,Nbd2,b6,O-O,Bb7,Nc4,d5,Nce5,a5,Nxc6,Bxc6,Ne5,Bb7,g4,Bd6,gxf5,exf5,Bxf5,Bxe5,Bxh7+,Kh8,Rxf8+,Qxf8,dxe5,Qc5+,Kh1,d4,Be4,Rb8,Bxb7,Rxb7,Re1,Rf7,e6,Rf6,h3,dxc3,Qxc3,Qe7,Qc6,Qb4,Qe4', 'Rf1+,Rxf1,Qxe4', 'https://lichess.org/training/29BsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('29bTG', 'Blitz', 'FM Arvinder_Amateur', 2309, 'GeonardAldave', 2190, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a3,b5,f4,Bb7,Bd3,e6,Qf3,Qc7,O-O,Nbd7,Bd2,Nc5,Rae1,Be7,Kh1,O-O,Qh3,Nxd3,cxd3,Nd7,f5,e5,Nf3,Nc5,Ng5,Bxg5,Bxg5,f6,Bd2,Qd7,b4,Nb3,Be3,d5,Rb1,Nd4,Bxd4,exd4,Nxd5,Bxd5,exd5,Qxd5,Rbe1,Rfe8,Qf3,Qd6,Re6,Qd7,Rfe1,Rad8,Qe4,Kf7,Rxe8,Rxe8,Qxe8+,Qxe8,Rxe8,Kxe8,g4,Ke7,Kg2,Kd6,Kf3,Ke5,h3,g6,fxg6,hxg6,h4,f5,h5', 'fxg4+,Kxg4,gxh5+', 'https://lichess.org/training/29bTG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('29DKf', 'Rapid', 'TheyCallMeGM', 1722, 'Brainabil', 1732, 'd4,d5,e4,e6,e5,f6,f4,c5,f5,fxe5,Qh5+,g6,fxg6,Nf6,Qh4,exd4,Bg5,Be7,g7,Rg8,Bxf6,Bxf6,Qh5+,Kd7,Bb5+,Nc6,Nf3,Qa5+,Nbd2,Qxb5', 'Qf7+,Ne7,Qxf6', 'https://lichess.org/training/29DKf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('29G41', 'Rapid', 'Surya01', 2151, 'siahpoush', 2013, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bg5,e6,f4,a6,Nxc6,bxc6,Qf3,Be7,g4,Bb7,O-O-O,d5,Bxf6,Bxf6,e5,Be7,Kb1,Qa5,Bg2,c5,f5,O-O,f6,Bd8,Qf4,gxf6,exf6,Kh8,Qh6,Rg8,g5,Rg6', 'Qf8+,Rg8,Qxf7', 'https://lichess.org/training/29G41');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('29GZa', 'Rapid', 'maslend', 1749, 'naamMoh', 1753, 'b3,e5,Bb2,d6,e3,h6,Nf3,c6,d4,e4,Nfd2,d5,c4,Bd7,Be2,Nf6,O-O,Bd6,f3,Qc7,g3,Nh5,Rf2,Bxg3,hxg3,Qxg3+,Rg2,Qh3,fxe4,Ng3,exd5,O-O,Nf3', 'Qh1+,Kf2,Ne4#', 'https://lichess.org/training/29GZa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('29HTK', 'Rapid', 'tabbs88', 1687, 'JigneshG', 1736, 'c4,c5,Nc3,Nc6,e4,e5,f4,exf4,d3,Qf6,Nf3,Bd6,Nd5,Qe6,Nxf4,Bxf4,Bxf4,Nf6,Be2,O-O,O-O,Nh5,Ng5,Qf6,Bxh5,g6,Bf3,Qxf4,Nh3,Qe3+,Kh1,d6,Ng1,f5,exf5,Bxf5,Bd5+,Kh8,Rf3,Qe5,Qd2,Nd4,Re3,Qf6,Rae1,Nc6,Bxc6,bxc6,Re7,Rf7,Rxf7,Qxf7,d4,Qxc4,Re7,Qxd4,Qh6,g5,Rf7,Bg6', 'Rf8+,Rxf8,Qxf8#', 'https://lichess.org/training/29HTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('29J6P', 'Rapid', 'horsehead', 1988, 'Khamba1996', 2041, 'd4,e6,c4,d5,Nf3,Nf6,Nc3,b6,cxd5,Nxd5,e4,Nf6,Bg5,h6,Bh4,Be7,Bd3,O-O,O-O,Bb7,Qe2,Re8,Rfd1,Nbd7,h3,Qc8,Rac1,c5,dxc5,Nxc5,Na4,Qb8,Nxc5,Bxc5,Bxf6,gxf6,Nh2,Qf4,a3,a5,Ng4,Kg7,Ne3,f5,g3,Qg5,h4,Qg6,exf5,exf5,Bxf5,Qc6,Rd5,Qxd5', 'Qg4+,Kf8,Nxd5', 'https://lichess.org/training/29J6P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('29S4P', 'Blitz', 'abbas808', 1792, 'PlaySoBad', 1827, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Nf6,Bg5,Be7,Bd3,d5,Bxf6,Bxf6,O-O,O-O,f3,Qb6+,Kh1,Qxb2,Qd2,d4,Ne2,c5,Rfb1,Qa3,Rb3,Qa4,c4,Be6,Qc2,Rab8', 'Rxb8,Qxc2,Rxf8+,Kxf8,Bxc2', 'https://lichess.org/training/29S4P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('29TdB', 'Rapid', 'Muleskinner', 1961, 'Nutcracker777', 2073, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,a6,a4,g6,Bc4,Nge7,O-O,Bg7,f5,d5,fxe6,Bxe6,exd5,Nxd5,Nxd5,Bxd5,Qe1+,Ne7,Bxd5,Qxd5,d3,Qd6,Ng5,O-O,c3,Nd5,Qh4,h6,Ne4,Qb6,Bxh6,Rad8,c4,Nb4,Bxg7,Kxg7,Ng5,Rh8,Rxf7+,Kg8,Rh7,Qf6,Rf1,Qd4+,Qxd4,Rxd4,Rxh8+,Kxh8,Rf8+,Kg7,Rf7+,Kh6,Nf3,Rxd3,Rxb7,Rd1+,Kf2,Rb1,Rb6,Nd3+,Ke3,Rxb2,Rxb2,Nxb2,Ne5,Nxa4,Ke4,Nc3+,Kd3,Nd1,Nd7,Nf2+,Ke2,Ne4,Ke3,Nd6,Kd3,Nb7,Kc3,Kg7,Kb3,Kf7,Ne5+,Kf6,Nd3,Kf5,Kc2,Ke4,Kd2,Kd4,Nf4,g5,Ne6+,Kxc4,Nxg5,Kb3,h4,c4,Ne4,Nd8,g4,a5,Nc3,a4,Nxa4', 'Kxa4,Kc3,Kb5', 'https://lichess.org/training/29TdB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2A0mC', 'Rapid', 'Bowmore17', 1883, 'manny36pgh', 1860, 'e4,e5,f4,d6,Nf3,Nc6,Nc3,Nf6,Bc4,h6,fxe5,dxe5,O-O,Bg4,a3', 'Bxf3,Qxf3,Qd4+,Kh1,Qxc4', 'https://lichess.org/training/2A0mC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2a0PP', 'Rapid', 'Belaya_Gvardiya', 1976, 'gio95', 1965, 'd4,d6,e4,e6,Nf3,g6,Bd3,Bg7,O-O,Ne7,Nc3,Nd7,a4,b6,a5,Bb7,axb6,axb6,Bg5,h6,Be3,Rxa1,Qxa1,O-O,Qa7,Qa8,Ra1,Qxa7,Rxa7,Rb8,Nb5,Nc8,Ra2,c6,Nc3,b5,Kf1,Ra8,Rxa8,Bxa8,Ke2,f5,exf5,exf5,Na2,Ncb6,b3,Nd5,Bd2,N7f6,Nb4,g5,Nxd5,Nxd5,Bxf5,Nf4+,Bxf4,gxf4,c3,c5,Bd7,b4,cxb4,cxb4,Be6+,Kf8,Ne1,Bxd4,f3,Ke7,Bg8,Bb7,Bc4,d5,Bd3,Bc3,Nc2,Kd6,g3,fxg3,hxg3,d4,f4,Bc8,Be4,Be6,Kd3,Bxb3,Nxd4,Bd5,Nb5+,Ke6', 'Nc7+,Kd6,Nxd5', 'https://lichess.org/training/2a0PP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2a4O3', 'Classical', 'MarcusBayern', 1640, 'EduardoNSetti', 1624, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,O-O,dxc3,Qd5,Qe7,Nxc3,Nf6,Qg5,O-O,e5,Ne8,Qg3,Nd4,Nxd4,Bxd4,Nd5,Qxe5,Qxe5,Bxe5,Ne7+,Kh8,Rb1,Nd6,Bd3,b6,Re1,Bf6,Nd5,Bb7,Nxf6,gxf6,Bb2,Kg8,Re3,Rae8', 'Rg3+,Kh8,Bxf6#', 'https://lichess.org/training/2a4O3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2A4xy', 'Rapid', 'ratsstuben', 1666, 'Brummes', 1719, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,d3,Bd6,Bg5,h6,Bxf6,Qxf6,O-O,Bg4,Nbd2,O-O-O,h3,Bh5,Nc4,b5,Na5,c5,Nc6,Rd7,Nxa7+,Kb7,Nxb5,c6,Nxd6+,Rxd6,c4,Bxf3,gxf3,Qg5+,Kh1,Ra8,Rg1,Qh4,Rg3,g5,Qb3+,Kc7,Rag1,Qh5,a4,Rb8,Qa3,Rf6,Qxc5,Rxf3,Qxe5+,Kc8,Qe8+,Kb7,Qd7+,Kb6,b4,Rxf2,a5+,Ka6,Qxc6+,Ka7,Qc5+,Ka8,Qxf2,g4,Rxg4,Qxh3+,Qh2,Qf3+,R4g2,Qxd3,Qxh6,Qxc4,Qd2,Qxe4,Qd7', 'Rh8+,Qh3,Rxh3#', 'https://lichess.org/training/2A4xy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2A6C2', 'Blitz', 'GM dulemaster', 2505, 'Sphinx1000', 2065, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,d6,Nc3,Nf6,Be2,h5,h3,O-O,O-O,Bd7,Qc2,Rc8,Rfd1,a6,Rac1,Nxd4,Bxd4,b5,cxb5,axb5,a3,Qa5,Qd2,b4,axb4,Qxb4,e5,dxe5,Bxe5,Ba4,Nxa4', 'Qxd2,Rxd2,Rxc1+', 'https://lichess.org/training/2A6C2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2A9nq', 'Rapid', 'Pinin0', 2001, 'Alessiooo', 1811, 'e4,e5,Bc4,Nf6,Nf3,c6,Nxe5,d5,exd5,cxd5,Qe2,dxc4', 'Nc6+,Qe7,Nxe7', 'https://lichess.org/training/2A9nq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2A9zR', 'Blitz', 'IVANANT-2', 1670, 'Kaimar', 1631, 'c4,b6,Nc3,Bb7,Nf3,e6,e3,Nf6,d4,Bb4,g3,Bxc3+,bxc3,c5,Bg2,d6,O-O,O-O,Rb1,Qc7,Ba3,Nbd7,Qd3,e5,dxe5,dxe5,Bb2,Be4,Qd1,Bxb1,Qxb1,Rad8,Rd1,h6,a4,Nh7,Ba3,Rfe8,Nd2,f6,Nb3,Ndf8,a5,Rxd1+,Qxd1,Rd8,Qc2,bxa5,Nxc5,Ng5,Qa4,Nfe6,Nb3,Rd3,Nxa5,Rxc3,Bd5,Kh7,Qe8,Qxa5,Bf8,Nxf8,Qxf8,Qc7,Qg8+,Kg6,Qe8+,Nf7,Be4+,f5', 'Qe6+,Kh7,Bxf5+,g6,Qxg6+,Kh8,Qh7#', 'https://lichess.org/training/2A9zR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2AaI6', 'Classical', 'flybuster', 1879, 'tadeuszko', 1725, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,e5,Nc6,Nf3,Bb4,a3,Bxc3+,bxc3,Nge7,Bg5,h6,Bh4,b6,Qd6,Bb7,Bb5,Rc8,Nd4,Nxd4,cxd4,Rb8,O-O,g5,Bg3,Nf5', 'Bxd7+,Qxd7,Qxb8+', 'https://lichess.org/training/2AaI6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2abqG', 'Blitz', 'L4byr1nth', 1798, 'stasolvit', 1732, 'd4,e6,Bf4,d5,e3,Nf6,Nf3,Bd6,Ne5,O-O,Nd2,Ne4,Qg4,Re8,Bd3,Nxd2,Kxd2,f6,Qh5,fxe5,Qxh7+,Kf8,Qh8+,Kf7,Qh5+,Kf8,Bg6,exf4', 'Qh8+,Ke7,Qxg7#', 'https://lichess.org/training/2abqG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2aDxS', 'Blitz', 'Mofeed_Chaar', 1793, 'ephung', 1781, 'd4,d5,c4,dxc4,e3,b5,a4,Bd7,axb5,Bxb5,Nc3,c6,Nxb5,cxb5,Qf3,Nd7,Ne2,a5,Nc3,b4,Na4,Rc8,Nc5,Nxc5,dxc5,Rxc5,Be2,e6,O-O,Bd6,Qh5,Nf6,Qh3,O-O,Bf3,Qc7,e4,c3,bxc3,bxc3,Ba3,Re5,Bxd6,Qxd6,Rfd1,Qc5,Qg3,Nxe4,Bxe4,Rxe4,Rdc1,c2,Qd3,Rc4,Rxa5,Qxa5,Qxc4,Rd8,Qxc2,g6,g3,Rd2,Qc8+,Kg7,Qc3+,Qxc3,Rxc3,h5,Kg2,Kh6,Kf3,f5,h4,g5,hxg5+,Kxg5,Rc6,Rd3+,Ke2,Rd4,Rxe6,Re4+', 'Rxe4,fxe4,Ke3,h4,gxh4+', 'https://lichess.org/training/2aDxS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2AeWX', 'Rapid', 'CaptnPugwash', 1721, 'ZolAP', 1765, 'e4,c5,c3,d6,d4,cxd4,cxd4,Bd7,Nf3,g6,Be2,Bg7,Nc3,Nc6,O-O,Rc8,Be3,Nf6,h3,a6,a3,O-O,Rc1,b5,b4,e5,d5,Ne7,Qd2,a5,Bh6,axb4,axb4,Kh8,Bxg7+,Kxg7,Bxb5,Bxb5,Nxb5,Nxe4,Qd3,Nf6,Rxc8,Nxc8,Qc4,Nb6,Qh4,Nfxd5,Ng5,h6,Nf3,Qxh4,Nxh4,Nxb4,Nxd6,N6d5,Nf3,e4,Nxe4,f5,Nc5,Rc8,Ne6+,Kf6,Ned4,g5,Re1,g4,Re6+,Kg7,hxg4,fxg4,Nh4,h5,Nhf5+,Kf7,Nh6+,Kg7,Ndf5+,Kh7,Nf7,Rc6', 'Ng5+,Kh8,Re8#', 'https://lichess.org/training/2AeWX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2AfuO', 'Blitz', 'dsamorod', 1611, 'wolfinator99', 1611, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bd3,Bg7,O-O,Nc6,Nxc6,bxc6,Bg5,a5,Qd2,h6,Be3,Ba6,a4,Bxd3,Qxd3,Rb8,b3,Nxe4,Qxe4,Bxc3,Rab1,Bg7,Qxc6+,Qd7,Qxd7+,Kxd7,Bd2,h5,Bxa5,h4,h3,f5,f4,Bd4+,Kh2,Rhc8,c4,e5,fxe5,dxe5,Be1,Ke6,Bxh4,e4,Rbd1,Bc3,Bg3,Rxb3,Rd6+,Kf7,Rfd1,Bf6,Rd7+,Ke8,R7d6,Kf7,a5,Rxc4,a6,Ra3,Rd7+,Ke6', 'R1d6#', 'https://lichess.org/training/2AfuO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2AhfR', 'Rapid', 'jhuang', 2042, 'Jimmyre', 1666, 'e4,d5,exd5,Qxd5,Nf3,Nf6,c4,Qa5,Nc3,Bf5,d4,c6,Bd2,Qc7,Be2,e6,O-O,Be7,Nh4,Bg6,Nxg6,hxg6,h3,Nbd7,a3,O-O-O,b4,Rh7,b5,cxb5,Nxb5,Qb8,Qc1,Rdh8,Bf4,e5,dxe5,Nxe5,Nxa7+,Qxa7,Bxe5,Nd7,Bxg7,Rxg7,Re1,b6,Qe3,Bc5,Qc3,f6,Bg4,Rf8,Re6,Rgf7,a4,Kb8,a5,Ne5', 'axb6,Qxa1+,Qxa1', 'https://lichess.org/training/2AhfR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ahs8', 'Rapid', 'adambomb6945', 1993, 'Pedro_37', 1921, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bc4,a6,Nc3,e6,O-O,b5,Bb3,b4,Na4,Nxe4,Be3,Be7,Qg4,Ng5,f4,e5,fxg5', 'Bxg4,Bxf7+,Kd7', 'https://lichess.org/training/2ahs8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Al6l', 'Rapid', 'stavmanr', 1835, 'AgusWijaya_315', 1872, 'Nf3,d5,c4,Nf6,cxd5,Nxd5,Nc3,Nxc3,bxc3,e6,c4,Bd6,Bb2,O-O,d4,c6,e3,Nd7,c5,Be7,Bd3,Nf6,O-O,b6,cxb6,axb6,a4,Ba6,Ne5,Bb7,Qf3,Qc7,Qh3,g6,Rfc1,c5,Bb5,Nd5,Nf3,f5,Qh6,Bf6,Ng5,Qe7,Nf3,Bg7,Qg5,Nf6,Ne5,Qd6,dxc5,bxc5,Rd1,Qc7,Rac1,Rad8,Nc4,Rxd1+,Rxd1,Ne4,Qh4,Bxb2', 'Rd7,Qxd7,Bxd7', 'https://lichess.org/training/2Al6l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2aLij', 'Rapid', 'leo848blume', 1737, 'TeammannF', 1785, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Bb5,Bg7,Nxc6,bxc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bb3,dxe4,Qxd8+,Kxd8,Bxf7,Rf8,Bb3,Bd4,Bh6,Bxf2+,Ke2,Bg4+,Kd2,e3+,Kc3,Rf5,h3,Rc5+,Kb4,Rb5+,Ka4,Bd7,Rad1,c5', 'Rxd7+,Kxd7,Kxb5', 'https://lichess.org/training/2aLij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2am6m', 'Blitz', 'nagareboshi', 2137, 'Porschinu', 2058, 'e4,c5,Nf3,e6,b3,Nc6,Bb2,b6,c4,Bb7,Nc3,Nf6,d4,cxd4,Nxd4,Bc5,Nc2,O-O,Be2,Qe7,O-O,Rad8,Kh1,d5,exd5,exd5,cxd5,Nb4,Nxb4,Bxb4,Bc4,Bxc3,Bxc3,Nxd5,Bxd5,Rxd5,Qe1,Qh4,f3,Qh6,Rd1,Rh5,Be5,Re8,Bg3,Bc6,Qd2,Qg6,Kg1,h6,Qd3', 'Qxd3,Rxd3,Bb5,Rc3,Bxf1', 'https://lichess.org/training/2am6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2aNf5', 'Rapid', 'gregreg', 1638, 'abdallah6666', 1647, 'e4,c5,Nf3,d6,h3,Nf6,a4,Nxe4,d3,Qa5+,Bd2,Nxd2,Qxd2,Qxd2+,Nfxd2,Nc6,c3,Bf5,f4,h5,Ne4,e6,Nbd2,Be7,Be2,Bh4+,g3,Be7,h4,d5,Ng5,Bxg5,hxg5,g6', 'g4,Bxg4,Bxg4', 'https://lichess.org/training/2aNf5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2AnjK', 'Rapid', 'Ured', 1831, 'Brembor', 1673, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bg4,d5,a6,dxc6,axb5,cxb7,Rb8,Qd5,c5,Nbd2,Nf6,Qd3,Rxb7,b3,Be7,Bb2,O-O,O-O,h6,a4,Qd7,a5,Ra8,Ra2,Rba7,Rfa1,Bd8,a6,Qc6,c4,b4,h3,Bh5,g4,Bg6,Nh4,Bxe4,Nxe4,Nxe4,Nf5,Rxa6', 'Rxa6,Rxa6,Rxa6,Qxa6,Qxe4', 'https://lichess.org/training/2AnjK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2AnYH', 'Rapid', 'svetush', 1802, 'becobec', 1666, 'd4,d5,Nc3,c6,a3,e6,Bf4,Nf6,Nf3,Be7,Ne5,O-O,e3,Nbd7,Bd3,Re8,Ng4,Nh5,Qf3,Nxf4,exf4,Nf8,Qg3,Qb6,Rb1,Qxd4,Nh6+,Kh8,Nxf7+,Kg8,Ne5,Bf6,Rd1,Qb6,Qh3,Qxb2,O-O,Qxc3', 'Bxh7+,Nxh7,Qxc3', 'https://lichess.org/training/2AnYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2AOU1', 'Rapid', 'Sonata2', 2313, 'Torretazo', 2311, 'd4,d5,c4,e6,Nc3,a6,cxd5,exd5,Nf3,Be6,Bf4,Nf6,e3,c6,Bd3,Bd6,O-O,O-O,Qb3,Bxf4,exf4,Qc7,Ne5,Nbd7,Rfe1,c5,dxc5', 'd4,Qc2,dxc3', 'https://lichess.org/training/2AOU1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2aPpX', 'Blitz', 'Jonny97', 1729, 'Matt-ya', 1542, 'e4,g6,d4,Nf6,Nc3,d6,f4,Bg7,Nf3,O-O,Be3,Nbd7,Bd3,a6,Qe2,b5,e5,dxe5,dxe5,Ng4,Bd2,Nc5,h3,Nxd3+,cxd3,Nh6,d4,Bb7,Ne4,Nf5,Qf2,e6,Nc5,Bxf3,gxf3,Qxd4,Bc3,Qxf4,Rg1,Bxe5,Rg4,Bxc3+,bxc3,Qd6,Ne4,Qb6,Qb2,Ne3,Nf6+,Kg7,c4,Nxc4,Nh5+,Kh6', 'Qg7+,Kxh5,Qxh7#', 'https://lichess.org/training/2aPpX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2APWK', 'Rapid', 'andrij85', 1918, 'Clydevil', 1840, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,g6,e3,Bg7,Qb3,O-O,cxd5,cxd5,Bd2,Nc6,Ne5,Nxe5,dxe5,Nd7,f4,Nb6,Be2,Be6,Qa3,f6,exf6,exf6,O-O,f5,Nb5,d4,Nxd4,Bxd4,exd4,Qxd4+,Be3,Qd7,Rfd1,Qf7,Bc5,Rfc8,Rac1,Bxa2,Bf3,Bb3,Bxb7,Bxd1,Bxa8,Nd7,Rxd1,Rxc5,Qxc5', 'Nxc5,Bd5,Ne6', 'https://lichess.org/training/2APWK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2AQuE', 'Rapid', 'patlasha', 1843, 'VladVIII', 1835, 'e4,e5,Bc4,Nc6,Nf3,h6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,O-O,Be6,Nc3,Ne7,Bf4,Nc6,Bb5,Qd7,Qa4,Be7,Rad1,a6,Nd5,O-O,Nxe7+,Qxe7,Bxc6,bxc6,Qxc6,Bxa2,b3,Qf6,e5,Qxf4,exd6,cxd6,Rxd6,Rfc8,Qd5,Rab8,Ra1,Rxc2,Rd8+,Rxd8', 'Qxd8+,Kh7,Qd3+,g6,Qxc2', 'https://lichess.org/training/2AQuE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2arwI', 'Blitz', 'Alman', 1557, 'Fedalerer', 1640, 'e4,c6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,e6,Be3,Bc5,Bb5+,Bd7,Bxd7+,Nxd7,Qd3,Ne7,h4,Ng6,h5,Ngxe5,Qd2,Ng4,Nc3,Nxe3,fxe3,Bxd4,exd4,Nf6,O-O-O,h6,Qe2,Qb6,g4,O-O-O,g5,hxg5,Na4,Qa5,Nc5,Qxa2,Qb5,b6', 'Qc6+,Kb8,Qb7#', 'https://lichess.org/training/2arwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2atuc', 'Blitz', 'belloti', 1592, 'pair_match_mate', 1655, 'Nc3,d5,d4,Nf6,Bf4,e6,e3,Bc5,dxc5,O-O,Bd3,Nc6,Qd2,e5,Bg5,e4,Be2,Ne5,h4,Nc4,Bxc4,dxc4,Qe2,Bg4,f3,Bh5,Nxe4,c6,Nxf6+,gxf6,Bf4,Bg6,Nh3,Qa5+,c3,Qxc5,O-O,Bd3,Qf2,Bxf1,Rxf1,Rad8,Qg3+,Kh8,h5,Rg8,Qh4,Rd2,h6,Rdxg2+,Kh1,Qf5,e4,Qg6,Bd6', 'Rh2+,Bxh2,Qg2#', 'https://lichess.org/training/2atuc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2auIE', 'Rapid', 'cfc52', 1686, 'Bulldogfan1998', 1922, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Be3,O-O,Qd3,b5,Qd2,b4,Ne2,Nxe4,Qxb4,Nc6,Qc4,Na5,Qb5,c5,Qd3,Bb7,d5,Nf6,c4,Ba6,b3,Nxd5,Rd1,Nxe3,fxe3,Nc6,g3,Nb4,Qb1,Qa5,Rd2,Rab8,Bg2,Bxc4,bxc4,Nd5,Qd3,Nc3,Nxc3', 'Bxc3,O-O,Bxd2', 'https://lichess.org/training/2auIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2auLh', 'Blitz', 'Doinkster', 1839, 'ArnimGi', 1834, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bc4,O-O,O-O,Bg4,h3,Bh5,Be3,Qc7,g4,Bg6,c3,f5,Nh4,fxg4,Nxg6,hxg6,hxg4,a5,f4,b5,Bb3,a4,Bc2,Nd7,Qf3,Nf6,Rae1,Nd5,Bd2,Rae8,Be4,Qb7,b3,f5,gxf5,gxf5,Bxd5+,cxd5,Rxe8,Rxe8,Rf2,axb3,axb3,Re4,Qh5,Qd7,Rh2,Bxf4,Qh7+,Kf7,Qh5+,Kg8,Bxf4,Rxf4,Qh8+,Kf7,Qh5+,Kg8,Qh8+,Kf7,Qh5+,g6,Qh7+,Ke8,Re2+,Re4,Qxg6+,Qf7,Rxe4+,fxe4,Qc6+,Qd7,Qa8+,Ke7,Qg8,Qe6,Qg7+,Kd6,Qf8+,Qe7,Qb8+,Qc7,Qxb5,Qxc3,Qb6+,Qc6,Qxc6+', 'Kxc6,Kf1,Kb5,Ke1,Kb4', 'https://lichess.org/training/2auLh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2aX1j', 'Classical', 'SantiagoDeCuba', 1620, 'Nikola34', 1622, 'd4,d5,Nf3,c6,e3,Bf5,Bd3,Bg6,Bxg6,hxg6,O-O,e6,h3,Bd6,Nc3,g5,e4,dxe4,Nxe4,g4,Nxd6+,Qxd6,Ne5,gxh3,gxh3,f6,Qg4,Ne7,Qxg7,Rxh3,Qf7+,Kd8,Qf8+,Kc7,Qxf6,Nd7,Qf4,Rf8,Qg4,Rhh8,Bf4,Rhg8,Bg5,Nxe5,dxe5,Qxe5,Rae1,Qxg5,Qg3+,Qxg3+,fxg3,Rxg3+,Kh2,Rg6,Rxf8,Nd5,Rg1,Rh6+,Kg2,Ne3+,Kf3,Nxc2,Rg7+,Kb6,Rff7,Nd4+,Kg4,a6,Rxb7+,Ka5,Rg5+,Nf5,b4+,Ka4,Ra7,Rh4+,Kf3,Rxb4,Rxa6+,Kb5,a3', 'Rb3+,Kf4,Kxa6', 'https://lichess.org/training/2aX1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2axFN', 'Rapid', 'ivek', 1608, 'frageno', 1642, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Be7,Nxc3,d6,Qb3,Be6,Bxe6,fxe6,Qxe6,Nf6,Nd1,Nbd7,Nf3,Nc5,Qh3,Nfxe4,Ne3,Nd3+,Ke2,Ndxf2,Qh5+,g6,Qb5+,Qd7,Qxd7+,Kxd7,Rf1,Raf8,Rxf2,Nxf2,Kxf2,c5,Nd5,Kd8,Kg1,Kc8,Nd2,Bg5,Nc4,Bxc1,Rxc1,Kd7,Re1,Rf7,Na5,b6,Nc4,Re8', 'Rxe8,Kxe8,Nxd6+,Kf8,Nxf7', 'https://lichess.org/training/2axFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2AYZF', 'Rapid', 'merab_archvadze', 2350, 'gregyard', 2251, 'e4,c5,g3,Nc6,Bg2,g6,Ne2,Bg7,O-O,d6,c3,e5,d3,Nge7,Be3,O-O,Nd2,f5,f4,a6,Nf3,Rb8,Ng5,h6,Qb3+,d5,exd5,Na5,Qa3,hxg5,Bxc5,Re8,b4,gxf4,bxa5,fxg3,hxg3,Nxd5,d4,Ne3,Rf2,Ng4,Qb3+,Be6,d5,Bf7,c4,Nxf2,Bxf2,e4,Rd1,Qxa5', 'Bb6,Qxb6+,Qxb6', 'https://lichess.org/training/2AYZF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2aZPe', 'Classical', 'Arindam97', 1695, 'zoomzoom323t', 1714, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,d6,d3,h6,O-O,Nd4,Nxd4,Bxd4,Qf3,Nf6,Nd5,Nxd5,Bxd5,Be6,Bxb7,Rb8,Bc6+,Bd7,Bd5,Be6,Bxe6,fxe6,Qh5+,Kf8,Be3,Bxb2,f4,Bxa1,fxe5+,Kg8,Qf7+,Kh7,Rf6,Rb1+,Kf2,Qxf6+,exf6,Bxf6,Qxc7,d5,Qxa7,dxe4,dxe4,Rb2,a4,Rxc2+,Kf3,Rd8,Qb6,Rc3,Ke2,Rc2+,Kf3,Rd3,Qxe6,Bg5,Qf5+,Kg8,h4,Rxe3+,Kg4,Rxg2+,Kh5,Rh2,Qd5+,Kh8,Qf5,Rxh4+,Kg6,Rf4', 'Qc8+,Bd8,Qxd8+,Rf8,Qxf8#', 'https://lichess.org/training/2aZPe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2B5Zb', 'Rapid', 'Kostas32', 1902, 'Juan-Angel', 1855, 'c4,Nf6,Nc3,g6,e4,d6,f4,Bg7,Nf3,O-O,h3,Nc6,g4,e5,f5,Nd4,g5,Nxf3+,Qxf3,Nxe4,Qxe4,Bxf5,Qxb7,Qxg5,Qg2,Qh4+,Qf2,Qe7,d3,e4,dxe4', 'Bxc3+,bxc3,Qxe4+', 'https://lichess.org/training/2B5Zb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2b6FV', 'Classical', 'Seregin75', 1736, 'jdeuxl', 1827, 'd4,d5,Nf3,Nf6,Bg5,Nbd7,e3,e6,c4,c6,cxd5,cxd5,Nc3,Bd6,Bd3,O-O,O-O,b6,Nb5,Bb8,Rc1,a6,Nc3,Bb7,Qe2,e5,e4,h6,Bh4,Qe8,Bg3,exd4,Nxd4,dxe4,Nxe4,Nxe4,Rfe1,Ndf6,Bxb8,Rxb8,f3,Nd6,Nf5,Nxf5,Bxf5,Qxe2,Rxe2,Rfe8,Rxe8+,Rxe8,Rc7,Bd5,b3,g6,Bd7,Nxd7,Rxd7,Be6,Rd6,Rb8,Kf2,Kg7,Ke3,Kf6,f4,Ke7,Rc6,Bd5,Rc2,Kd7,Rd2,Ke6,g4,Rc8,Re2,Rc3+,Kd4+,Kd6,Kxc3,a5,a4,Bf3,Rd2+,Kc5,h3,f6,Rf2,Be4,h4,f5,gxf5,Bxf5,Rd2,Be4,Rd8,h5,Rc8+,Kd5,Rd8+,Kc5,Re8,Bf5,Re5+,Kc6,Kc4,Bb1,Re6+,Kc7,b4', 'Ba2+,Kb5,Bxe6', 'https://lichess.org/training/2b6FV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2B6v6', 'Classical', 'Leonard1', 1718, 'TeaEyeEm', 1749, 'e4,e5,Nf3,Nc6,Bb5,Bb4,c3,Bc5,d4,Bb6,O-O,Nf6,Re1,Ng4,h3,Nh6,dxe5,Ne7,Bxh6,gxh6,a4,Rg8,a5,Bc5,b4,c6,Bd3,b6,bxc5,bxa5,Na3,a4,Nc4,d5,exd6,Ng6,Qxa4,Nh4,Nfe5,Nxg2,Qxc6+,Kf8,Kf1,Nxe1,Qxa8,Nxd3,Qd5', 'Bxh3+,Ke2,Nf4+,Ke3,Nxd5+', 'https://lichess.org/training/2B6v6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2B94V', 'Rapid', 'ckmaten1', 1783, 'Twizzler', 1732, 'd4,e6,e4,d5,exd5,exd5,g3,Nf6,Bg2,Bd6,Bg5,h6,Bxf6,Qxf6,Bxd5,O-O,Bg2,Re8+,Ne2,Nc6,c3', 'Bg4,f3,Bxf3,Bxf3,Qxf3', 'https://lichess.org/training/2B94V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bElH', 'Blitz', 'FM Ricardo_Gardener', 2387, 'sharkma1', 2333, 'Nf3,e6,c4,d5,g3,Nf6,Bg2,c6,O-O,Nbd7,d4,Be7,b3,O-O,Nc3,b6,Qc2,Bb7,Rd1,Rc8,e4,dxe4,Ng5,h6,Ngxe4,Re8,Bf4,Nf8,c5,Nd5,Bd6,Nxc3,Qxc3,Bf6,Rd2,Ng6,Rad1,Qd7,h4,Rcd8,h5,Nf8,b4,b5,f4,Ba8,Be5,Be7,Nd6,Bxd6,Bxd6,Nh7,Be5,Nf6,Bxf6,gxf6,Be4,Kg7,Bf3,Bb7,Rg2,Rg8,g4,Qe7,Kf1,Qc7,Qe3,Bc8,Rdd2,Bd7,a3,Kf8,Rg3,Ke7,Rf2,a5,Kg1,axb4,axb4,Ra8,Kh2,Ra4,d5,cxd5,Qd4,Bc6,Kh3,Rga8', 'g5,hxg5,fxg5', 'https://lichess.org/training/2bElH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bfGO', 'Blitz', 'laanto85', 1957, 'IM Funo09', 2723, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Ne4,g6,c3,Bg7,d4,O-O,Nf3,Nc6,Be2,Bf5,Ng3,Bg4,O-O,a5,a4,Nb6,h3,Bc8,Bg5,h6,Bf4,Kh7,Qd2,Be6,Rfd1,Qd7,Bf1,Bd5,Ne5,Nxe5,Bxe5,Bxe5,dxe5,Qe6,f4,Rad8,Qf2,Bb3,Rd4,Rxd4,Qxd4,Bc2,Ne4,Bxe4,Qxe4,Rd8,Qe2,Qb3,e6,Qxe6,Qxe6,fxe6,b4,Nd5,bxa5,Nxc3,a6,bxa6,Bxa6,Ra8,Bc4,Rxa4,Rxa4,Nxa4,Bxe6,Kg7,Kf2,Kf6,Bc4,c5,Ke3,Nb6,Bb5,Nd5+,Kf3,Ke6,Bc4,Kd6,Ke4,Nb6,Bf7,g5,fxg5,hxg5,Kf5,c4,Kxg5,c3,Bg6,Nd5,h4,Ne3,h5,e6,h6,Nf5,h7', 'c2,Bxf5,c1=Q+', 'https://lichess.org/training/2bfGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bFSI', 'Blitz', 'dimper27', 1826, 'wicaksono10', 1796, 'Nf3,d5,e4,dxe4,Ng5,Nf6,d3,exd3,Bxd3,Nc6,O-O,h6,Nf3,Bg4,Be3,a6,h3,Bxf3,Qxf3,e6,Nc3,Bd6,Rad1,Qe7,Rfe1,Ne5,Qxb7,O-O,Ne4,Rfb8,Nxf6+,Qxf6,Qe4,Nxd3,Rxd3,Qxb2,Rb3,Qxa2,Reb1,Rd8,R3b2,Qa5,Qg4,Qe5,Bxh6,Qh2+,Kf1,Be5,Rb3,c5,Be3,Rac8,Rb7,Rc7,R7b6,Rcd7,Qf3,Rd1+,Rxd1', 'Qh1+,Ke2,Qxd1#', 'https://lichess.org/training/2bFSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bJXX', 'Blitz', 'greco09', 1764, 'merenguemerengue', 1793, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,f4,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Bf3,Bd6,Ne2,O-O,O-O,Rb8,c3,b6,Qd3,c5,f5,cxd4,fxe6,fxe6,Bg5,dxc3,Qxc3,Bc5+,Kh1,Bb7,Bxb7,Rxb7,Rad1,Qe7,Nf4,Rc7,Qb3,Rc6,Rfe1,h6,Ng6,Qc7,Nxf8,Kxf8,Bxf6,gxf6,Rxe6,Bd4,g3,Rxe6,Qxe6', 'Qb7+,Qc6,Qxc6#', 'https://lichess.org/training/2bJXX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2BlCd', 'Rapid', 'bentohali', 1851, 'Motobecane', 1867, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Ne7,O-O,Bg4,Re1,Nc6,h3,Bh5,c3,Bg6,Bxg6,hxg6,Bg5,f6,Bh4,Qd7,Na3,g5,Bg3,Bxg3,fxg3,O-O-O,Qd3,Rxh3,gxh3,Qxh3,Nh2,Rh8,Re2,Nf5,Rg2,Nh4,Rf2,Ne7,Rd1,Nhf5,Nc2,Nxg3,a3,Nef5,Rdd2,Nh4,Ne1,Re8,Rd1,f5,Ng2,Nxg2,Rxg2,f4,Qf3,Kb8,Qg4,Qh6,Rxg3,fxg3,Qxg3,a6,Rf1,Rh8,Rf2,Qe6,Qg4,Qe1+,Rf1,Qe3+,Kg2', 'Qd2+,Rf2,Rxh2+,Kxh2,Qxf2+', 'https://lichess.org/training/2BlCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bmaf', 'Rapid', 'yater100', 1648, 'Monotreme', 1641, 'd4,d5,c4,dxc4,Nc3,Nc6,Nf3,Bg4,e3,Nf6,Bxc4,e6,O-O,Bd6,h3,Bh5,Re1,Qe7,e4,Bb4,g4,Bg6,Qa4,Bxc3,bxc3,Bxe4,Ne5,O-O,g5,Nd5,Nxc6,bxc6,Qxc6,Bf3', 'Bxd5,Bxd5,Qxd5', 'https://lichess.org/training/2bmaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bMuh', 'Rapid', 'ziga-zaga67', 1621, 'yourboiii', 1646, 'e4,c5,Bc4,Nc6,Nf3,d6,Ng5,e6,Qf3,Nf6,d3,Nd4,Qd1,h6,Nf3,e5,Nxd4,cxd4,c3,dxc3,Nxc3,a6,a4,Be7,O-O,O-O,Qf3,Qb6,Qg3,Nh5,Qf3,Nf4,Nd5,Qd8,Nxf4,exf4,Qxf4,Bg5,Qg3,Bxc1,Raxc1,Qf6,Rfe1,Qxb2,e5,dxe5,Qxe5,Qxe5,Rxe5,Bd7,Re7,Bc6,h3,Rfe8,Rce1,Rab8', 'Bxf7+,Kf8,Bxe8', 'https://lichess.org/training/2bMuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bpxE', 'Classical', 'Junio2018', 1634, 'Hlophe-Moses', 1666, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,O-O,O-O,h3,h6,Re1,Re8,Nbd2,a6,a4,Be6,Bxe6,Rxe6,b4,Ba7,Nf1,d5,Be3,d4,cxd4,exd4,Nxd4,Nxd4,Ng3,Re8,Rc1,Qd6,Rc4,Nc6,Bxa7,Rxa7,Nf5,Qe5,Qf3,Qb2,Qg3,g6,Nxh6+,Kg7,Nf5+,Kg8,Qxc7,Nd5', 'Nh6+,Kg7,Qxf7+', 'https://lichess.org/training/2bpxE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bPy1', 'Rapid', 'vajojozsef', 1791, 'vegasatr', 1907, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qa5,d4,Bg4,Be3,O-O-O,Be2,e6,O-O,Nf6,h3,Bh5,a3,Bxf3,Bxf3,Qb6,Na4,Qb5,b3,Ne5,Be2,Qe8,Qe1,Nc6,Bf3,Kb8,c3,Rg8,b4,Nxd4,Bxd4,Qxa4,Bxf6,gxf6,Qe4,Qa6,Qxh7,Bd6,Qxf7,Qc4,Qxf6,Rdf8,Qh6,Rxf3,Rae1,Qxc3,Qxe6,Rxg2+,Kxg2,Rg3+,fxg3', 'Qxg3+,Kh1,Qh2#', 'https://lichess.org/training/2bPy1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2BrbM', 'Rapid', 'Dreamer8991', 1765, 'Thoithoisana', 1690, 'e4,e5,d3,b6,f4,exf4,Bxf4,Bb7,Nf3,h6,Be2,Nf6,c3,d6,Nbd2,Nbd7,O-O,g5,Be3,Qe7,a4,a5,b4,axb4,cxb4,Ne5,Nxe5,Qxe5,Nc4,Qc3,Bd2,Qd4+,Be3,Qc3,Qd2,Qxd2,Bxd2,d5,exd5,Nxd5,Bf3,O-O-O,a5,Bxb4,axb6,Bxd2,Nxd2,Nxb6,Bxb7+,Kxb7,Rxf7,Rxd3,Ne4,Re8', 'Nc5+,Kc6,Nxd3', 'https://lichess.org/training/2BrbM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2BRTo', 'Rapid', 'donex1', 1614, 'CDABANCR', 1713, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,exd4,Qxd4,Bg4,Qe5+,Ne7,O-O,Bxf3,gxf3,Qd6,Qg3,O-O-O,Nc3,Ng6,Rd1,Qe5,f4,Qh5,Rxd8+,Kxd8,Qd3+,Kc8,Be3,Bd6,e5,Bb4,Rd1,Bxc3', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/2BRTo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2BS3i', 'Rapid', 'fairooz_fz', 2045, 'michaljuma', 1894, 'e4,d6,Bc4,e5,Nf3,h6,c3,Nf6,d3,Be7,O-O,c6,Re1,Qc7,Bb3,O-O,d4,Re8,Nbd2,Nbd7,h3,Nf8,Nc4,b5,dxe5,bxc4,exf6,cxb3,fxe7,Rxe7,Qxb3,Be6,Qc2,Ng6,Nd4,Rae8,Be3,c5,Nxe6,Rxe6,f3,d5,Bf2,dxe4,fxe4,Nf4,Rad1,Qe7,Bg3,Ng6,Qa4,Qb7,Rd7,Qxb2,Qxa7,Qxc3,Rxf7,Ne7,Rf3,Qd4+,Bf2,Qc4,Bxc5,Nc6,Qf7+,Kh8,Rg3,Qxc5+,Kh2,R8e7', 'Qf8+,Kh7,Rxg7+,Rxg7,Qxc5', 'https://lichess.org/training/2BS3i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bsa6', 'Rapid', 'Karapuz1203', 1923, 'Feodor5', 1957, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,c5,Qb5+,Qd7,Nc3,Nc6,dxc5,a6,Qa4,Bxc5,O-O,Nge7,a3,Ng6,b4,Ba7,Re1,O-O,b5,axb5,Qxb5,Qc7,Rb1,Rab8,Qa4,Ra8,Qb5,Rab8,Qa4,Bc5,Nb5,Qb6,Be3,Bxe3,Rxe3,Ra8,Qb3,Na5,Qd3,Nc4,Ree1,Qc5,Rb3,Ra5,Nc3,Rxa3,h4,Rxb3,cxb3,Nb6,Rc1,Qb4,Ne2,h5,Ng3,Nf4,Qe3,Ra8,Rc7,Ra3,Rxb7,Rxb3,Rb8+,Kh7,Ng5+,Kg6,Rxb6,Qxb6,Qxf4,Qb7,Qc1,Qb6,Qc2+,Kh6,Qe2,Rxg3,Nxf7+,Kg6,Kh2,Rb3,Nd6,Rb2', 'Qd3+,Kh6,Nf7#', 'https://lichess.org/training/2bsa6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bSMl', 'Rapid', 'Mr-SERIES', 1734, 'scitwi', 1644, 'd4,d5,c4,c5,Bf4,Nc6,Nf3,Bf5,Nc3,e6,e3,g6,Be2,Bg7,cxd5,Nb4,O-O,Nc2,Rc1,cxd4,exd4,exd5,Bb5+,Kf8,g4,Bxg4,Rxc2,Ne7,Rd2,Qc8,Bd6,Bh3,Bxe7+,Kg8,Ng5,Bxf1,Kxf1,h6,Nf3,a6,Bh4,axb5,Nxd5', 'Qc4+,Kg2,Qxd5', 'https://lichess.org/training/2bSMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2btbs', 'Classical', 'TheChiffa', 1813, 'Vicdivan', 1957, 'd4,Nf6,Bg5,c5,Nc3,cxd4,Qxd4,Nc6,Qd1,Qa5,Bd2,e6,Nf3,Be7,e3,O-O,Bd3,Nb4,Nb5', 'Nxd3+,cxd3,Qxb5', 'https://lichess.org/training/2btbs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bvAv', 'Rapid', 'dr_john_a_zoidberg', 1690, 'Mohamedsheha26', 1679, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,Nc6,Nf3,O-O,Bg5,Bxc3+,Qxc3,Ne4,Bxd8,Nxc3,bxc3,Rxd8,d5,Na5,e4,b6,Be2,Ba6,O-O,exd5,exd5,Bxc4,Bxc4,Nxc4,Rfe1,Re8,Nd4,Re5,Rxe5,Nxe5,Re1,Nd3,Re7,Rd8,Nb5,Kf8,Re3,Nc5,Nxc7,d6,Nb5,a6,Nd4,b5,f3,Re8,Kf2,Rxe3,Kxe3,Na4,Kd3,Nb6,Ke4,Na4,Ne2,Ke7,g4,a5,h4,Kf6,f4,Ke7,Kd4,Kd7,f5,Kc7,c4,b4,Nc1,Nc3,c5,a4,cxd6+,Kxd6,Kc4,Nxa2', 'Nxa2,b3,Nc3', 'https://lichess.org/training/2bvAv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bVJE', 'Rapid', 'Chrisca408', 1721, 'Queen_Blunder', 1783, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,Bxc6+,bxc6,d4,f6,O-O,Ne7,c4,Ng6,Nc3,Be7,h4,f5,h5,fxe4,Nxe4,Nf4,dxe5,Nxh5,Nfg5,g6,Qf3,Bf5,g4,O-O,gxf5,Rxf5,Qg4,dxe5,Rd1,Qc8,b3', 'Rxg5,Qxg5,Bxg5', 'https://lichess.org/training/2bVJE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2bxP9', 'Classical', 'sleepes', 1609, 'Solotia', 1683, 'b3,b6,a4,Bb7,f3,Nc6,e4,e5,Bb2,Qh4+,g3,Qf6,Na3,Bxa3,Bxa3,Nge7,Qe2,a6,Bh3,Nd4,Qd3,Bc6,c3,Nxb3,Rb1,Bxa4,Bxd7+,Bxd7,Rxb3,O-O,Qxd7,Rfe8,Qxc7,b5,c4,Rac8,Bxe7,Qxe7,Qa5,Rxc4,Rb1,Qb7,d3,Rc2,Ne2,Qa7,Rc1,Rxc1+,Nxc1,Qe3+,Ne2,h6,Qxa6,Qxd3,Qc6,Rd8,h4', 'Qd1+,Kf2,Qxh1', 'https://lichess.org/training/2bxP9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2BySu', 'Rapid', 'lejen14', 1759, 'pigeon4298', 1714, 'e4,c5,d3,e6,Nf3,d5,e5,Nc6,Bg5,Be7,Bxe7,Ngxe7,c4,d4,Qa4,Qb6,Na3,Bd7,Nb5,a6,Nd6+,Kf8,Qc2,Ng6,Ng5,Ncxe5,f4,Qxd6,fxe5,Qxe5+,Ne4,f5,O-O-O,fxe4,dxe4,Ke7,g4,Qf4+,Kb1,Ne5,Bg2,Nxg4,Rhf1,Qxh2,Rh1,Qe5,Qe2,Ne3,Rdg1,Kd6,Rh5,Qf6', 'e5+,Qxe5,Rxe5', 'https://lichess.org/training/2BySu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2BYZS', 'Rapid', 'Heisenbergg94', 1800, 'frosch1943', 1927, 'e4,c5,Nf3,Nc6,Bc4,e6,e5,a6,a4,g6,d3,Bg7,Qe2,Qc7,Bf4,Nge7,g4,Nd4,Nxd4,cxd4,c3,dxc3,bxc3,O-O,d4,b6,Bd3,Bb7,f3,Nd5,Qd2,Nxf4,Qxf4,Rac8,Ra3,Bc6,Bc2,Qb7,Nd2,b5,h4,bxa4,h5,f5,hxg6,hxg6,gxf5,exf5,Bb1,Qb2,Qg5,Qxa3,Qxg6,Qc1+,Kf2,Qxd2+,Kg3,Bd5,Rh7,f4+,Kh3,Rf7', 'Rh8+,Kxh8,Qh7#', 'https://lichess.org/training/2BYZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2BZEW', 'Rapid', 'czes194', 1731, 'Axl_84', 1774, 'e4,e5,f4,f6,f5,d5,Qh5+,Ke7,b3,Nh6,Ba3+,Kd7,exd5,Bxa3,Nxa3,Qe7,Nc4,b5,Ne3,c6,dxc6+,Nxc6,Bxb5,Rb8,Bc4,Bb7,Be6+,Kd8,Nd5,Qc5,c4,Nd4,Rc1,Qa3,Rd1,Nc2+,Kf1,Qxa2,g4,Qxb3,g5,Qxc4+,Ne2,Bxd5,gxh6,Bxe6,fxe6,gxh6,Qf7,Qc7', 'Qxf6+,Ke8,Qxh8+', 'https://lichess.org/training/2BZEW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2C28V', 'Rapid', 'gobbedy', 1713, 'ermisM', 1635, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,g6,d3,Bg7,d4,Bg4,Be3,Nc6,Be2,Bxf3,Bxf3,Nxd4,Bxb7,Rd8,O-O,Nf6,Bxd4,Qxd4,Qxd4,Rxd4,Rad1,Rxd1,Rxd1,O-O,b3,Ne8,Nb5,Nd6,Nxd6,cxd6,c4,Rb8,Bd5,a5,Re1,e6,Bc6,Bc3,Re3,Bg7,Rd3,Rd8,c5,d5,Ba4,Rc8,c6,h6,Rd2,Bc3,Rc2,d4,Kf1,f5,Ke2,e5,Kd3,Kf7,Kc4,Ke6,Kc5,Bb4+,Kb6,Kd6,Kb7,Rc7+,Kb8,e4,Rc4,Bc3,Rc5,d3', 'Rxc3,d2,b4', 'https://lichess.org/training/2C28V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2c659', 'Rapid', 'Flores1', 1803, 'lluuddoovviicc', 1803, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,O-O-O,a3,h5,b4,Qf5,c3,e5,d3,e4,Nh4,Bxe2,Nxf5,Bxd1,Rxd1,exd3,Bf4,g6,Nd4,Nxd4,cxd4,Rxd4', 'Be5,Rd5,Bxh8', 'https://lichess.org/training/2c659');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2c741', 'Blitz', 'Bikernoah20', 1685, 'abdufatir', 1688, 'e4,e5,Nf3,d6,Bc4,h6,c3,f5,Nxe5,dxe5,Qh5+,Ke7,Qf7+,Kd6,Qd5+,Ke7,Qxe5+,Kd7,Qxf5+,Ke7,Qf7+,Kd6,Qd5+,Ke7,Qe5+,Kd7,Be6+,Kc6,Bxc8,Qxc8,d4,Nd7,Qd5+,Kb6,Na3,a6,Nc4+,Ka7,Bf4,Ngf6,Qe6,g5,Be3,Bg7,d5+,b6,O-O,Re8,Qc6,Rxe4,a4,Ng4,a5,Nxe3,axb6+,Nxb6,Rxa6+,Qxa6', 'Qxc7+,Qb7,Ra1+,Na4,Rxa4#', 'https://lichess.org/training/2c741');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2C8wN', 'Classical', 'theWolf73', 1716, 'Errico_57', 1692, 'e4,e5,Nc3,Nf6,h3,Be7,a3,O-O,Bc4,d6,Ba2,Be6,d3,c5,Nf3,Nc6,Be3,Qd7,O-O,Nd4,Bxd4,cxd4,Ne2,Rac8,c4,dxc3,Nxc3,Rc7,Na4,Rfc8,Nc3,Nh5,Nxe5,dxe5,Qxh5,Bxa2,Rxa2,Qxd3,Qxe5,Qc4,Rd1,Kf8,Raa1,Rc5,Rd5,Bf6,Rxc5,Rxc5,Qb8+,Rc8,Qxb7,Bxc3,bxc3,Qxc3,Rd1,Re8,Qxa7,Qe5,f3,Qb5,a4,Qe2,Rb1,Qc2,Rb8,Qc1+,Kh2', 'Qf4+,g3,Qxb8', 'https://lichess.org/training/2C8wN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2C9ru', 'Rapid', 'AlexZvenigorodsky', 1808, 'Makz92', 1818, 'e4,d5,exd5,Nf6,Nf3,e6,dxe6,Bxe6,Be2,Nc6,O-O,Qd7,d4,Bf5,c3,O-O-O,b4,Bd6,a4,h5,c4,Nxb4,c5,Be7,Bd2,Nbd5,Ne5,Qe8,a5,Bxc5,Nxf7,Qxf7,dxc5,Ne4,a6,b6,cxb6,cxb6,Qa4,Nxd2,Nxd2,Bd7,Rac1+,Kb8,Qd4,h4,Qe5+,Ka8,Bf3,Be6,Ne4,h3,Ng5,Qf4,Qxg7,hxg2', 'Qb7#', 'https://lichess.org/training/2C9ru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2cB4B', 'Rapid', 'LieutenantChess123', 1652, 'Wittgenstein67', 1662, 'e4,e5,Nf3,Nc6,d4,exd4,c3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,Bg5,Be7,cxd4,Nxd4,Qd3,c5,O-O,O-O,Nc3,a6,a4,b6,Rad1,b5,Bxf6,bxc4,Bxe7,Qxe7,Qxc4,Qg5,Rd3,Rfb8,Rg3,Qf6,Nd5,Qe5,f4,Qxe4', 'Nf6+,Kh8,Nxe4', 'https://lichess.org/training/2cB4B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Ccix', 'Rapid', 'brazo72', 1622, 'ruslansholokhov', 1665, 'e4,c5,c3,e5,d4,cxd4,cxd4,exd4,Qxd4,Nc6,Qd1,Bb4+,Nc3,Qe7,Bd2,d5,Nxd5,Qxe4+,Ne3,Be6,Nf3,O-O-O,Bb5,Nf6,Bxc6,bxc6,O-O,Ng4,Qe2,Bc4', 'Qxc4,Qxc4,Nxc4', 'https://lichess.org/training/2Ccix');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2CExu', 'Blitz', 'CM Itachi2096', 2301, 'NF17', 2288, 'd4,d5,Bf4,Nf6,e3,c5,dxc5,e6,b4,a5,c3,b6,Bxb8,Rxb8,Bb5+,Ke7,c6,g5,Nf3,h6,O-O,Bg7,Nbd2,Qc7,Rc1,Rg8,a3,Bh8,c4,g4,Nh4,h5,cxd5,Nxd5,Qb3,Bf6,Nf5+,exf5,Qxd5,Be6,Qd3,Rbd8,Qc2,Be5,g3,h4,Nc4,hxg3,hxg3,Rh8,Nxe5,Qxe5,c7,Rc8,Ba6,Bd5,f3,Qxg3+,Qg2,Qd6,Bxc8,gxf3,Rxf3,Bxf3,Qxf3', 'Qh2+,Kf1,Qh1+,Qxh1,Rxh1+,Ke2,Rxc1', 'https://lichess.org/training/2CExu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2cfkP', 'Rapid', 'Rijahas', 1931, 'DevyatovRinat', 1952, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Bxf7+,Kxf7,Nxe5+,Ke6,Nf3,Nxf3+,Qxf3,Qf6,Qh3+,Kf7,Nc3,c6,O-O,Bc5', 'Qh5+,Qg6,Qxc5', 'https://lichess.org/training/2cfkP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2cjo0', 'Blitz', 'krantisurya_358', 1599, 'Shanugoyanka', 1614, 'e4,e5,Nf3,d5,Nxe5,dxe4,Nc3,Nf6,Bc4,Be6,Qe2,h5,d3,Bxc4,Nxc4,Be7,Nxe4,O-O,Nxf6+,Bxf6,O-O,Re8,Qxh5,Nc6,Be3,b5,Nd2,Bxb2,Rab1,Bc3,Ne4,Nb4,Nxc3,Nxc2,Nxb5,Rb8,Rb2,Qxd3,Bxa7', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/2cjo0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2cl7h', 'Classical', 'orangeshirts', 1710, 'mese', 1734, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,Bg4,exd6,Bxd6,Bb5,Ne7,Nc3,a6,Ba4,O-O,Nd5,Nxd5,Qxd5,Bxf3,gxf3,Qf6,Rg1,Qxf3,Bh6,Be5,Bxc6,Bxb2,Rb1,Bc3+,Kf1,bxc6,Qxc6,Be5,Rb3,Qd1+,Kg2,Qh5,Rh3', 'Qg4+,Rg3,Bxg3', 'https://lichess.org/training/2cl7h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2CLqE', 'Rapid', 'andoval', 1708, 'jnalanko', 1699, 'e4,e5,Bc4,Nc6,Nc3,Bb4,Nd5,Nf6,Nxb4,Nxb4,a3,Nc6,d3,d5,exd5,Nxd5,Nf3,O-O,O-O,Re8,Re1,a6,Bg5,Qd7,d4,e4,Ne5,Nxe5,dxe5,Rxe5,f4,Re8,Bxd5,Qb5,Rxe4,Rxe4,Bxe4,Be6,b4,h6,Bh4,Qc4,Qf3', 'Qd4+,Qf2,Qxa1+', 'https://lichess.org/training/2CLqE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2cLUD', 'Bullet', 'Ludes3000', 1579, 'MuratShurat', 1515, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,Nf3,Bg4,Be2,Nf6,O-O,Bd6,h3,Bf5,Ng5,O-O,Bd3,Bxd3,Qxd3,Re8,Be3,h6,Nf3,Ne4,Rfe1,Nd7,Nh2,Ndf6,a3,Qd7,Nxe4,Nxe4,b4,Re7,c4,Rae8,c5,Bb8,a4,Qc7,Nf3,f5,a5,f4,Bc1,g5,Ne5,Qd8,b5,Bxe5,dxe5,Rxe5,bxc6,bxc6,Bb2,R5e6,Qd4,Qe7,Qh8+,Kf7,Qh7+,Kf8', 'Qh8+,Kf7,Qg7#', 'https://lichess.org/training/2cLUD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2COuN', 'Blitz', 'KSDPERERA', 1796, 'mohankopparapu', 1773, 'd4,d5,Nf3,Nc6,e3,Bg4,c4,e6,Nc3,dxc4,Bxc4,Nf6,h3,Bxf3,Qxf3,Bb4,Bd2,O-O,O-O-O,a5,h4,Bxc3,Bxc3,Nd5,Bxd5,exd5,g4,b5,g5,Nb4,Bxb4,axb4,Kb1,c6,b3,Ra3,Rd2,Qa5,h5,Ra8,g6,fxg6,hxg6,hxg6,Qg4,Rxa2', 'Qe6+,Kf8,Rh8#', 'https://lichess.org/training/2COuN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2CuGN', 'Classical', 'gusoku', 1899, 'vaughany', 1803, 'e4,Nc6,d4,d5,e5,e6,Be3,Nge7,g4,Ng6,Nd2,Bb4,c3,Ba5,Qc2,f6,exf6,Qxf6,O-O-O,Nf4,Nb3,Bb6,h4,Bd7,g5,Qf7,Qd2,Nh5,f4,O-O-O,Qe1,Rhf8,Ne2,Na5,Nc5,Bxc5,dxc5,Nc4,c6,Bxc6,Nd4,Bd7,Bxc4,dxc4,Rf1,g6,Nc2,Kb8,Na3,Bc6,Nxc4,Bd5,Ne5,Qe8,c4,Bg2,Rf2,Bh3,Rfd2,Rxd2,Qxd2,Kc8,Qa5,a6,Qc5,b6,Qa3,Kb7,Rh1,Bg2,Rg1,Be4,c5,Qb5', 'c6+,Bxc6,Qxf8', 'https://lichess.org/training/2CuGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2cv54', 'Rapid', 'dheitkam', 1825, 'arnold123', 1757, 'c4,c6,d4,e6,Nc3,a6,d5,Bb4,e4,b5,dxc6,Nxc6,Bd2,bxc4,Bxc4,Bc5,Nf3,Nf6,Bg5,Be7,O-O,O-O,e5,Ng4,Bxe7,Qxe7,Re1,Bb7,h3,Nh6,Ne4,Rab8,Nd6,Ba8,b3,f6,exf6,Rxf6,Ne4,Rxf3,gxf3,Rf8,Ng3,Qh4,Bf1,Nd4,Bg2,Bxf3,Qd3,Bxg2,Kxg2,Nhf5,Re4,Qf6,Rf1,Nh4+,Kh1,Ndf5,Nxf5,Nxf5,Kh2,d5,Rg4,Qe5+,Kg2,Nh6,Rg3,Nf5,Rg4,h5,Rg5', 'Nh4+,Kh1,Qxg5', 'https://lichess.org/training/2cv54');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2d172', 'Blitz', 'FM Hard_Utilizator', 2366, 'IM GreenNight', 2580, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,h3,g6,c3,Bf5,Nf3,Bxd3,Qxd3,Bg7,O-O,O-O,Re1,Nc6,Nbd2,Re8,Ne5,Nd7,Nxd7,Qxd7,Nf3,e5,dxe5,Nxe5,Nxe5,Bxe5,Be3,a6,Bd4,Bxd4,Qxd4,Qb5,Qd2,Re4,Re3,Rxe3,fxe3,Re8,Rd1,Re5,b3,Qe8,Re1,h5,Qd4,Qe6,Kh1,b5,a4,Re4,Qa7,bxa4,bxa4,Rxa4,Rb1,Rc4,Rb8+,Rc8,Rb6,Qxe3', 'Rxg6+,fxg6,Qxe3', 'https://lichess.org/training/2d172');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2D2aD', 'Blitz', 'Andrawijayablc', 2096, 'xrob_rookery', 2160, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nc6,Be3,cxd4,cxd4,Nf6,Nc3,Qa5,Bc4,e6,Ne2,Bd6,h3,a6,O-O,O-O,Qd2,Rd8,a3,Ne7,Bg5,Ng6,Bxf6,gxf6,Qe3,b5,Bd3,Bb7,Ne4,Be7,Nf4,Qb6,Nh5,Bxe4,Qh6,Bf8', 'Nxf6+,Kh8,Qxh7#', 'https://lichess.org/training/2D2aD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2D97K', 'Classical', 'Vania1906', 1619, 'albert0750', 1609, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Ng4,h4,Bc5,Bxc6,dxc6,d3,Be6,Nc3,Qd6,Bd2,O-O-O,Nh2,Nf6,Bg5,h6,Bxf6,gxf6,Qf3,Rhg8,Qxf6,Rg6,Qf3,Rdg8,g3,Qd4,Qg2,f5,exf5', 'Rxg3,Qxg3,Rxg3+', 'https://lichess.org/training/2D97K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2d9Cv', 'Classical', 'Vigorous_singer', 1824, 'Medarr', 1771, 'd4,d5,Bf4,Nc6,e3,Bf5,Bd3,e6,Bxf5,exf5,Nd2,Bd6,Qf3,Nf6,Bxd6,Qxd6,Qxf5,O-O,O-O-O,Nb4,Kb1,Qc6,c3,Nxa2,Nh3,Nxc3+,bxc3,Qxc3,Qc2,Qb4+,Qb2,a5,Rc1,Rfc8,Qxb4,axb4,Kc2,c5,dxc5,Rxc5+,Kb3,Rb5,Rc2,h6,Rhc1,Ra3+,Kb2,Rba5,Rb1,Ne4,Nb3,Ra6,Ra1,Kf8,Rxa3,bxa3+,Ka2,b5,Nd2,Ke7,Nxe4,dxe4,Kb3,Kd6,Kb4', 'a2,Rxa2,Rxa2', 'https://lichess.org/training/2d9Cv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2DALo', 'Blitz', 'Theking808', 1905, 'Batuhansepici', 1892, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nf3,Ne7,Bg5,Nbc6,O-O,f6,Bh4,Bg4,c3,Qd7,Nbd2,O-O-O,Qa4,h5,b4,g5,Bg3,h4,Bxd6,Qxd6,b5,Nb8,Qxa7,Bxf3,Nxf3,g4,Ne1,f5,Qc5,Qe6,a4,f4,a5,f3,a6,fxg2,axb7+,Kd7,Nxg2,g3,Rae1,Qf6,fxg3,Qd6,Rf7,Rde8,Bf5+,Kd8,Qa7,c6,bxc6,hxg3,Rexe7,Rxe7,Rxe7,Kxe7,Ne3,gxh2+,Kh1,Rg8,Ng2,Qg3,Qc5+,Kf6,Qxd5,Re8,c7', 'Re1+,Nxe1,Qg1#', 'https://lichess.org/training/2DALo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2dD0g', 'Rapid', 'abouda1', 1782, 'lesnoj_kot', 1834, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,Nc6,Qd1,O-O,Re1,Na5,f4,Nxb3,axb3,Bb7,Nc3,Re8,e5,b4,exf6,bxc3,fxg7,Rxe1+,Qxe1,cxb2,Bxb2,d5,Rd1,Qe8,Qg3,Qe2,Re1,Qxc2,Be5,Re8,h4,Qd2,Kh2,f6', 'Bc3,Qxe1,Bxe1', 'https://lichess.org/training/2dD0g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2dFus', 'Blitz', 'Ephectx', 1602, 'Yureon', 1551, 'e4,c5,Nf3,g6,Bc4,Bg7,O-O,Nf6,e5,Ng4,c3,Nxe5,Nxe5,Bxe5,d4,cxd4,cxd4,Bxh2+,Kxh2,Qc7+,Kg1,Qxc4,Bh6,d5,b3,Qa6,Nc3,Be6,Qf3,Qa5,Rfe1,Nd7,Nxd5,Bxd5,Rxe7+,Kxe7,Qe3+,Kd6,Bf4+,Kc6,Rc1+,Kb6,Qe7,Qb5,Qd6+,Bc6,d5,Qxd5,Be3+,Ka6,Rxc6+,Qxc6', 'Qa3+,Kb5,Qa4#', 'https://lichess.org/training/2dFus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2dJrq', 'Blitz', 'knimus', 2026, 'radicalritual', 2044, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Qb6,Qd2,cxd4,Nxd4,Nxd4,Bxd4,Bc5,Na4,Qc7,Nxc5,Nxc5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Nc5,Qb4,Ne4,f5,a5,Qb5+,Qc6,Qd3,h5,b3,h4,c4,h3,g3,Rh6,Rac1,Qa6,Rf3,a4,cxd5,Qxd3,Rxd3,exd5,e6,fxe6,Bxg7,Rh7,f6,Kf7,Rc7+,Kg6,b4,b5,Rc6,Kf5,Rf3+,Kg4,Rf4+,Kg5,Rxe6,Rc8,Re5+,Kg6,Rg4+,Kf7,Re7+,Kg8,Bh6+,Kh8,Rgxe4,dxe4,Bg7+,Kg8,Kf2,Rc2+,Ke3,Rxh2,Kxe4,Rxa2,Ke5,h2,Kf5,h1=Q,Re8+,Kf7,Re7+,Kg8', 'Re8+,Kf7,Rf8#', 'https://lichess.org/training/2dJrq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2DKPh', 'Classical', 'Vlad2008123', 1818, 'Gen_Shadow', 1762, 'e3,e5,d4,exd4,exd4,d5,c4,c5,Nc3,cxd4,Qxd4,Nc6,Qxd5,Bd7,Bf4,Nf6,Qd1,Bb4,Bd6,Bxc3+,bxc3,Qa5,Qc2,Ne4,Qxe4+,Be6,Qc2,Nd4,Qb2,Rd8,c5,Bf5,Rc1,b6,Be5,Nc6,Bxg7,Rg8,Bf6,Rd7,Bb5,Rc7,Bxc6+,Rxc6,Qe2+,Kd7,Qe7+,Kc8,Rd1', 'Re6+,Ne2,Rxe7', 'https://lichess.org/training/2DKPh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2dKwJ', 'Blitz', 'FM Podrebo', 2306, 'Krcko_Orascic', 2234, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,N1e2,Nf6,c3,Be7,Bf4,Nbd7,Rd1,O-O,O-O,Qb6,b4,Rfd8,a3,a5,Qf3,Nd5,Ne4,N7f6,Be5,axb4,axb4,Ra3,Bxf6,Nxf6,Nxf6+,Bxf6,Ng3,Bxd4,Ne4,Be5,Rxd8+,Qxd8,Rd1,Qe7,Qd3,f5,Qd8+,Kf7,f4,Bxf4', 'Rd7,Qxd7,Qxd7+', 'https://lichess.org/training/2dKwJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2dmA0', 'Classical', 'lania21', 1833, 'OrianeB', 1747, 'Nf3,d5,c4,c6,g3,Nf6,Bg2,e6,d4,b6,O-O,Bd6,cxd5,cxd5,Nc3,O-O,Bf4,Bxf4,gxf4,Nc6,Rc1,Bb7,e3,Re8,Kh1,a6,Rg1,b5,Ne5,b4,Nxc6,Bxc6,Ne2,Bb5,Ng3,a5,Rc5,Qb6,Qc2,Nd7,Rc7,Qa6,Rc1,Red8,b3,Qb6,Qd2,Rab8,e4,Bc4,Rxd7,Rxd7,bxc4,dxc4,Rxc4,g6,e5,Rbd8,d5,exd5,Rd4,Qc5,Ne4', 'dxe4,Rxd7,Rxd7', 'https://lichess.org/training/2dmA0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Ds8c', 'Rapid', 'ika60', 1734, 'sibachir', 1676, 'e4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,O-O,a3,Nxd4,Bxd4,Bxd4,Qxd4,Re8,Bc4,Qe7,O-O,d6,Rae1,Be6,e5,Bxc4,Qxc4,dxe5,Nd5,Nxd5,Qxd5,c6,Qb3,Kh8,Re3,f6,Rfe1,Red8,f4,Rd5,c4,Rc5,Qc3,Qe6,fxe5,Rxc4', 'exf6,gxf6,Rxe6', 'https://lichess.org/training/2Ds8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2dshk', 'Classical', 'Winner15', 1730, 'majidshahzehi', 1708, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,e5,Ng8,Bc4,e6,Nc3,Bb4,Nf3,Nh6,a3,Bxc3+,bxc3,Bd7,O-O,Nf5,Ng5,a6,Qf3,Bc6,Qf4,Bb5,Bxb5+,axb5,g4,h6,Nxf7,Kxf7,gxf5,Qg5+,Qxg5,hxg5,fxe6+,Kxe6,Bxg5,Rh3,Bd8,Rxc3,Rfc1,Rd3,Bxc7,Nc6,Rd1,Rxd1+,Rxd1,Rxa3,d5+,Kd7,e6+,Kxc7,dxc6,Kxc6', 'e7,Ra8,Rd8,Ra1+,Kg2', 'https://lichess.org/training/2dshk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2dTbP', 'Rapid', 'samakos', 1738, 'felipe98', 1704, 'a3,Nf6,b3,d5,c3,e5,d3,c6,Bb2,Be7,h3,O-O,Nd2,Bf5,Qc2,Nbd7,O-O-O,a5,e3,Bg6,Ne2,b5,g3,b4,a4,c5,c4,dxc4,Nxc4,e4,d4,cxd4,Nxd4,Qc7,Kb1,Rfd8,Ka2,Nd5,Nb5,Qc8,Rxd5,Nc5,Nb6,Qb7,Rxd8+,Rxd8,Nc4,Nd3,Bxd3,exd3,Qd2,Qxh1,Nxa5,Qxh3,Nc6,Rd7,Nxe7+,Rxe7,Bd4,h5,Bc5,Re5,Bxb4,Rf5,f4,Rd5,e4,Rd7,f5,Bh7,Qf4,Qh2+,Ka3,g6,Qb8+,Kg7,Qf8+,Kf6,Qh8+,Kg5,Qxh7,d2,Bxd2+,Rxd2,fxg6,fxg6,Qe7+,Kg4,Qe6+,Kf3,Qf6+,Ke3,Qf4+,Ke2,Nc3+,Kd3,Qf3+,Kc2,Na2,Qe2', 'Qc3+,Kb1,Qc1#', 'https://lichess.org/training/2dTbP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2DTuI', 'Rapid', 'DHC', 1888, 'CopiniMonster', 1816, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,e6,Bxe6,d5,Bf5,Nc3,e6,g4,Bg6,dxe6,fxe6,Nf3,Be7,Bg2,Nc6,b3,O-O,O-O,e5,Na4,Be4,Nxb6,axb6,Re1,Bxf3,Bxf3,Bh4,Be3,Qf6,Bd5+,Kh8,Rf1,Ne7,Be4,Rf7,Qc2,Ng6,Bxb7,Raf8,Bd5,Re7,Rad1,Nf4,Be4,Ref7,f3,Qg5,Bxh7', 'Nh3+,Kg2,Qxe3', 'https://lichess.org/training/2DTuI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Du1n', 'Blitz', 'M-Omran', 1707, 'ayay_marabi', 1749, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,O-O-O,c4,Qh5,d5,e6,Nc3,exd5,cxd5,Nf6,O-O,Bd6,h3,Kb8,Qa4,Ne5,hxg4', 'Nxf3+,Bxf3,Qh2#', 'https://lichess.org/training/2Du1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2dwYC', 'Blitz', 'meysam_1995', 2175, 'pisutbill9112', 2204, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,Nf3,a6,O-O,b5,Bb3,Bb7,Qe2,Bb4,Bf4,Nge7,Ne5,O-O,Rad1,d6,Nxc6,Nxc6,a3,Bxc3,bxc3,e5,Be3,Qe7,Qg4,Rfd8,Bh6,Qf8,Rd3,Na5,Ba2,Kh8,Bg5,f6,Rh3,fxg5', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/2dwYC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2DxVb', 'Rapid', 'BesmirH', 2110, 'sakrificadame', 2078, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Ng3,Bc5,d4,exd4,Ng5+,Kg8,O-O,h6,Nf3,Be6,Re1,Qd7,Qd3,Nb4,Qg6,Bf7,Ne5,Bxg6,Nxd7,Nxc2,Nxc5,Nxe1,Bd2,Nd3,Ne6,c6,Nxd4,Kh7,f4,Nxb2,f5,Bf7,Rb1,Nc4,Rxb7,Nxd2,Rxf7,c5,Ne6,Rhg8,Nh5,c4,Nef4,c3', 'Nf6+,Kh8,Ng6#', 'https://lichess.org/training/2DxVb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2dXzV', 'Rapid', 'oliware', 1836, 'grandisaster', 1705, 'd4,Nf6,e3,g6,f4,Bg7,c3,d6,Nf3,Nbd7,Be2,O-O,O-O,c6,Nbd2,Qc7,e4,e5,fxe5,Ng4,Nc4,dxe5,h3,Ngf6,Ncxe5,Nxe4,Bd3,Ng3,Bf4,Nh5,Bh2,Qb6,Nxf7,Rxf7,Bc4,Nhf6,Ng5,Nd5,Nxf7,N7f6,Ne5,Kh8,Qe2,Be6,Rf2,Bg8,Raf1,Re8,Qd3,Re7,Kh1,Qd8,g4,Re8,g5,Nd7,Qf3,Nxe5,Bxe5,Bxe5,dxe5,Rxe5,Bxd5', 'Bxd5,c4,Bxf3+', 'https://lichess.org/training/2dXzV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2e1Xu', 'Rapid', 'kimlim', 1742, 'nasser55123', 1828, 'g3,e5,Bg2,d5,c4,c6,cxd5,cxd5,Qb3,Nf6,d3,Qd6,Bg5,Nbd7,Nf3,Rb8,O-O,Be7,Qa3,O-O,Qxa7,Qc7,Nc3,Bc5,Qa4,Nb6,Qb3,Be6,Nb5,Qc6,Na7,Qd6,Bxf6,gxf6,Rfc1,d4,Qb5,Nd7,Nd2,Bxa7,Ne4,Qe7,Rc7,Qd8,Rxb7,Rxb7,Qxb7,Qb8,Qa6,Qxb2,Re1,Qb6,Qa4,f5,Ng5,Nc5,Qa3,h6,Nxe6,Nxe6,Qe7,Kh7,Qf6,Ng7,Qxe5,Qb4,Rf1,Bc5,g4,Bd6,Qe4,Re8,Qf3,fxg4,Qxg4,Rg8,Qh4,Qc5,Kh1,Qg5,Qe4+,Nf5,Rg1,Qh5,h3,Rxg2,Kxg2,Kh8,Rh1,Qg5+,Qg4', 'Nh4+,Kf1,Qc1#', 'https://lichess.org/training/2e1Xu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2e68W', 'Classical', 'shadalbe', 1857, 'atft5', 1692, 'e4,Nc6,Nf3,e5,Bc4,Nf6,d4,d6,O-O,Be6,d5,Na5,dxe6,Nxc4,exf7+,Kxf7,Bg5,h6,Bxf6,Qxf6,Qd5+,Qe6,Qxb7,Be7,b3,Nb6,Qxc7,Rhc8,Qb7,Rxc2,Nbd2,Qd7,Qa6,Rac8,h3,g5,Qe2,Rb2,Nh2,Rcc2,Qh5+,Kg7,Ndf3,Qe6,Qe8,Nd7,Ng4,Nf6,Nxf6,Qxf6,Qa4,Rc7,Rac1,Rbc2,Rxc2,Rxc2,Qxa7,Kg6,b4,h5,b5,g4,hxg4,hxg4,Nh2,Qg5,a4,Bd8,b6,Rb2,b7,Bc7,a5,g3,Nf3,gxf2+,Kh1,Qh5+,Nh2,Qh8,a6,Re2,Qa8,Qh7,Qe8+,Kg5,g3,Re1,Kg2,Qxe4+,Kh3,Rxf1,Nxf1', 'Qh1+,Nh2,f1=Q#', 'https://lichess.org/training/2e68W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2E7tu', 'Rapid', 'desertbuj', 1770, 'mayankchopra', 1747, 'd4,h6,Nf3,Nf6,c4,d5,Nc3,a6,Qc2,Bg4,e4,Bxf3,gxf3,dxe4,fxe4,Qxd4,Be3,Qe5,O-O-O,e6,Qa4+,Nc6,Bd4,Qa5,Qb3,Be7', 'Qxb7,O-O,Qxc6', 'https://lichess.org/training/2E7tu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2eazY', 'Rapid', 'Gadjiev', 1950, 'vscenev1', 1905, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,h3,Bf5,Nc3,c5,Be3,cxd4,Nxd4,Bg6,Bb5+,Nd7,O-O,a6,Bxd7+,Qxd7,a3,Rc8,Nf3,Bc5,Nh4,Ne7,Nxg6,Nxg6,Bxc5,Rxc5,f4,O-O,Qg4,Rfc8,h4,Ne7,Rad1,Nf5,Rd3,Qd8,g3,b5,Ne4,Rxc2,Nf6+,Kh8,Qh5,gxf6,g4,Qb6+,Kh1,Ng7,Qxf7,fxe5,fxe5,Rg8,Rdf3,d4', 'Qxg8+,Kxg8,Rf8#', 'https://lichess.org/training/2eazY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2eCJk', 'Blitz', 'ummmwhatever', 2113, 'IM DrEstranged', 2456, 'e4,b6,Nc3,Bb7,d4,e6,Nf3,Bb4,Bd3,Nf6,Qe2,d5,e5,Ne4,Bd2,Nxd2,Qxd2,Be7,O-O,c5,Bb5+,Bc6,Bxc6+,Nxc6,Ne2,cxd4,Nexd4,Qc7,c3,Nxe5,Rfe1,Nc4,Qe2,O-O,Nxe6,fxe6,Qxe6+,Rf7,b3,Nd6,Ne5,Bf6', 'Nxf7,Qxf7,Qxd6', 'https://lichess.org/training/2eCJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ecZS', 'Blitz', 'Tapochka11', 2262, 'FM dilwending', 2356, 'e4,c5,f4,e6,Nf3,d5,Bb5+,Nc6,Bxc6+,bxc6,Nc3,Nf6,d3,Be7,Qe2,O-O,O-O,Ba6,e5,Nd7,Bd2,d4,Ne4,Nb6,b3,Nd5,Nfg5,h6,Nh3,Bb7,f5,exf5,Rxf5,Bc8,Rh5,a5,Rf1,Qc7,Nf4,g6,Rxh6,Qxe5,Nxg6,fxg6,Rxg6+,Kh8,Rxf8+,Bxf8,Rg5,Qe7,Rh5+,Kg8,Rg5+,Bg7,Qh5,Be6,Rg6,Bf7,Rxg7+,Kxg7,Bh6+,Kg8', 'Qg4+,Bg6,Qxg6+', 'https://lichess.org/training/2ecZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2eFBj', 'Rapid', 'Owltech', 1630, 'Nekomamushi', 1843, 'd4,Nf6,g3,e6,Bg2,d5,Nf3,c5,O-O,Nc6,a3,a5,Nc3,Bd6,Nb5,O-O,Bg5,Be7,Ne5,cxd4,Nxc6,bxc6,Nxd4,c5,Nc6,Qc7,Nxe7+,Qxe7,Bxf6,Qxf6,c4,Rd8,cxd5,exd5,b4,axb4,Bxd5,Be6,e4,bxa3,Qb3,Rdb8,Rxa3,h5,Rxa8,Rxa8,Qb7,Rc8,Bxe6,Qxe6,e5,c4,Rd1,c3,Rd6', 'c2,Rxe6,c1=Q+,Kg2,fxe6', 'https://lichess.org/training/2eFBj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2efNe', 'Rapid', 'WhtevrFloatsYourBoat', 1877, 'Hartenfels', 1631, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Nc3,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,Nxc4,Qxc4,O-O,e5,d5,exd6,Qxd6,Bf4,Qb6,Na4,Qa5,Bxc7,Qh5,Nc3,Be6,Qe2,Bg4,Qe3,Rfe8,Qg3,Qc5,Bd6,Qb6,Ba3,Rad8,h3,Bf5,Rac1,Rd2,Rfe1,Rxe1+,Rxe1,Rxc2,Qb8+,Kh7,Qe5,Be6,Rf1,Bc4', 'Qf5+,g6,Qxc2', 'https://lichess.org/training/2efNe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2efp6', 'Rapid', 'jentuva', 1685, 'H_jozi', 1699, 'Nf3,Nc6,c4,e5,Nc3,Bc5,g3,Nf6,Bg2,O-O,d3,d6,Bg5,h6,Bxf6,Qxf6,Qd2,Nb4,O-O,c6,a3,Na6,b4,Bb6,Qb2,Bd8,Nd2,Be6,Nde4,Qe7,a4,Nc7,a5,f5,Nd2,f4,Nde4,d5,cxd5,cxd5,Nc5,Bc8,Nxd5,Nxd5,Bxd5+,Kh8,e3,Bh3,Bg2,Bxg2,Kxg2,b6,Ne4,f3+,Kg1,Qe6,Kh1,Qh3,Rg1,Rf5,Nd2', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/2efp6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2efPO', 'Rapid', 'giascacchi', 1870, 'eltabaco', 1870, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,O-O,O-O,a3,a6,d3,b5,Ba2,h6,b4,Bd4,Nxd4,Nxd4,Bb2,Bb7,Ne2,d5,Nxd4,exd4,e5,Nd7,Bxd4,Re8,Qh5,Qg5,Qxg5,hxg5,c4,dxc4,dxc4,Nxe5,cxb5,axb5,f4,gxf4,Rxf4,Nc4,Bxc4,bxc4,Bc5,Re2,Rxc4,Rxg2+,Kf1,Rxh2,Bg1,Ba6,Bxh2,Bxc4+,Ke1,Re8+,Kd1,Re2,Bxc7,Rf2,Kc1,f5,a4,f4,Bxf4,Rxf4,b5,Bb3,a5,Rb4,b6,Bd5,Kc2,Rb5,Kc3,Bf3,Kc4,Rb2,Kc5,Kf7,a6,Ke7,a7,Ba8,Re1+,Kd7,Rd1+,Ke6,Rd8,Be4', 'Re8+,Kf6,Rxe4', 'https://lichess.org/training/2efPO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2egGe', 'Rapid', 'paso_lezzet', 2004, 'Moya1975', 1927, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,Bd7,O-O,Nc6,Be3,a6,Kh1,Nxd4,Bxd4,Bc6,Qe2,O-O,f4,Re8,Rad1,b5,Bxf7+,Kxf7,e5,Nd5,Qh5+,Kg8,e6,Nxc3', 'Qf7+,Kh8,Bxg7#', 'https://lichess.org/training/2egGe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2EHim', 'Rapid', 'girar', 1905, 'Jackoscar', 1998, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,Bc4,Nxd5,Qe2+,Be7,O-O,O-O', 'Bxd5,Bc5+,d4,Qxd5,dxc5', 'https://lichess.org/training/2EHim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2eHiP', 'Rapid', 'angnedov1963', 1724, 'r2d10', 1752, 'd4,d5,Bf4,e6,Nf3,c5,c3,cxd4,cxd4,Nc6,e3,a6,a3,Qb6,Qc2,Qa5+,Nc3,Bd7,Rb1,Be7,Bd3,h6,O-O,Nf6,h3,Nh5,Bh2,O-O,Be2,Nf6,Ne5,Qd8,f4,Bd6,Nd1,Rc8,Qd2,Ne4,Qe1,Na5', 'Nxd7,Qxd7,Qxa5', 'https://lichess.org/training/2eHiP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Ek0S', 'Rapid', 'master-ariesi', 1781, 'LordStockfish09', 1938, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qa5,Bd2,c6,e4,Nbd7,Nd5,Qd8,Nc3,a5,f3,b5,Be3,Nb6,Bd3,b4,Na4,Bd7,Nxb6,Qxb6,Qd2,Qb7,Ne2,g6,O-O,Bg7,Rad1,Rd8,Bh6,Nh5,g4,Bxh6,Qxh6,Nf6,g5,Nh5,Ng3,Nf4,Qg7,Rf8,Qxh7,Bh3,Rfe1,Bg2,Kf2,Qb6,Bc4', 'Rxd4,Rxd4,Qxd4+', 'https://lichess.org/training/2Ek0S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ELen', 'Rapid', 'tobe_peacedeath', 1868, 'Gakob777', 1837, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,Qb3,Qf6,Bg5,Qg6,O-O,h6,Bd2,Nge7,cxd4,Nxd4,Nxd4,Bxd4,Nc3,O-O,Rfe1,Nc6,Rad1,d6,Nb5,Bb6,Be3,a6,Bxb6,cxb6,Nxd6,b5,Bd5,Na5,Qe3,Bg4,f3,Be6,Qb6,Bh3,g3,Rad8', 'Bxf7+,Rxf7,Qxd8+', 'https://lichess.org/training/2ELen');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2EMZD', 'Rapid', 'sujeet12us', 1751, 'VuSaLikramoglu', 1744, 'd3,e5,e4,c6,Nf3,Nf6,Bd2,d5,Nxe5,dxe4,dxe4,Nxe4,Bc4,Qb6,Bxf7+,Ke7,Qf3,Nxd2,Kxd2,Qa5+,Kc1,Qxe5,Nd2,Bf5,Nc4,Qc5,g4,Kxf7,Qxf5+,Qxf5,gxf5,Bc5,Rf1,Rf8,b3,Bd4,Rb1,Kg8,Nd6,b5,c4,b4,Kc2,Be5,Rbd1,Na6,Nb7,Rxf5,Na5,c5,Nc6,Bxh2', 'Ne7+,Kh8,Nxf5', 'https://lichess.org/training/2EMZD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Envp', 'Rapid', 'Tatwamasi', 1898, 'cuma_iseng', 1864, 'd4,d5,c4,Bf5,Nf3,Nf6,Nc3,e6,Nh4,Bg4,h3,Bh5,Nf3,Bb4,Qa4+,Nc6,cxd5,Nxd5,Qc2,Bg6,Qd2,Qf6,e3,h6,a3,Ba5,b4,Bb6,Nxd5,exd5,Bb5,a6,Ba4,Be4,Ne5,Bxg2,Rg1,Bxh3,Qc3,O-O,Nxc6,bxc6,Bxc6,Rad8,a4,Qf3,a5,Ba7,Bb7,Bg4,Bxa6', 'Qd1#', 'https://lichess.org/training/2Envp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2EPFd', 'Blitz', 'Cuffi', 1712, 'MizochesPrincYoutube', 1687, 'e4,e5,Nf3,Nf6,Bc4,h6,O-O,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Be3,Bd6,Rd1,O-O,Nc3,Nbd7,Qe2,Qe7,Rf1,c6,Rad1,Rad8,Bxa7,b6,a4,Ra8,a5,Rxa7,axb6,Nxb6,Bb3,Rd7,Qe3,Bc5,Qg3,Rfd8,Rde1,Nh5,Qg4,Nf4,g3,h5,Qf3,Qg5,Kh1,Ng6,h4,Qe7,Qf5,Nxh4,gxh4,Qxh4+,Kg2,Qe7,Qxh5,Rd6,Rh1,Rg6+,Kf1', 'Rh6,Qxf7+,Qxf7,Bxf7+,Kxf7,Rxh6,gxh6', 'https://lichess.org/training/2EPFd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ErDX', 'Rapid', 'pablo35', 1644, 'roroman', 1802, 'd4,e6,c4,d5,e3,a6,c5,Nf6,Nc3,h6,Bd3,Be7,Nf3,Nc6,a3,O-O,O-O,Nh7,Bxh7+,Kxh7,Qd3+,Kg8,e4,dxe4,Qxe4,Bf6,Be3,Be7,Rad1,f5,Qd3,Bf6,b4,Ne7,Bf4,Bd7,b5,axb5,Nxb5,Nd5,Be5,c6,Bxf6,Qxf6,Nd6,Rab8,Ne5,Bc8,Rb1,Nf4,Qe3,Nd5,Qf3,Ne7,Rb3,Ng6,Nxg6,Qxg6,Rfb1,Bd7,Rxb7,Rxb7,Rxb7,Be8,Nxe8,Qxe8,Rc7', 'Qb8,Qe2,Qxc7', 'https://lichess.org/training/2ErDX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2EsSR', 'Blitz', 'Busy_Beaver', 1728, 'chingachguk4', 1783, 'e4,c6,d4,d5,Nc3,h6,Bd3,e6,Nf3,c5,O-O,cxd4,Nxd4,a6,exd5,exd5,Re1+,Be7,Be3,Nc6,a3,Nf6,Qd2,Nxd4,Bxd4,O-O,Bxf6,Bxf6,Rab1,Be6,Ne2,Qc7,c3,Rac8,Bc2,d4,Nxd4,Bxd4,Qxd4,b5,Qe4,g6,Qe3,Kh7,Rbd1,Rce8,Qc1,Bf5,Bxf5,gxf5,Qc2,Qc5,Rxe8,Rxe8,Qd3,Qc8,Qd5,Qe6,Kf1', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/2EsSR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ESXA', 'Rapid', 'faryad7979', 1815, 'SaMe7YaHyA', 1989, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,exd5,Bf4,Bf5,Nf3,Bd6,Bg3,c6,e3,O-O,Bd3,Bxd3,Qxd3,Re8,O-O,Bxg3,hxg3,Nbd7,b4,a6,a4,Ne4,b5,axb5,axb5,Nxc3,Qxc3,cxb5,Rxa8,Qxa8,Ra1,Qc8,Qa5,Qc6,Rb1,f6,Rxb5,b6,Qb4,Kf7,Nd2,Rc8,Kh2,Kg6,Qb1+,Kf7,Qb3,Kg6,e4,dxe4,d5,Qc3,Qb1,f5,Nxe4,fxe4', 'Qxe4+,Kf7,Qe6+,Kf8,Qxd7', 'https://lichess.org/training/2ESXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ETB6', 'Blitz', 'FM Medalhista', 2274, 'bosspotato', 2325, 'e4,g6,d4,Bg7,Nc3,d6,Be3,a6,Qd2,b5,a3,Nd7,f3,Bb7,Nge2,Rc8,Ng3,c5,Be2,cxd4,Bxd4,Ngf6,O-O,O-O,h4,h5,Be3,Ne5,Bh6,Nc4,Bxc4,Rxc4,Bxg7,Kxg7,Qg5,Kh7,Rad1,b4,axb4,Rxb4,b3,Qc7,Nge2,Rc8,g4,Rb6,Na4,Rb5,Qf4,hxg4,fxg4,Rf8,Nec3,Rc5,Rd3,Rc6,h5,Qa5,hxg6+,Kxg6,Qf5+,Qxf5,gxf5+,Kh5,Rh3+,Kg4,Kh2,Rcc8,Ne2,Rh8', 'Rg1#', 'https://lichess.org/training/2ETB6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2eTiD', 'Rapid', 'mahnaz60', 1798, 'Bercikowe', 1818, 'Nf3,e6,e4,d5,e5,c5,h3,Nc6,Bb5,Bd7,a4,Nge7,O-O,Ng6,c3,Ngxe5,d4,Ng6,dxc5,Bxc5,b4,Bd6,Bg5,Be7,Be3,O-O,Na3,Nce5,Nxe5,Nxe5,Bxd7,Qxd7,b5,Bxa3,Rxa3,Nc4,Ra2,Nxe3,fxe3,Rac8,Rc2,Rc4,Qa1,Rfc8,Kh1,h6,Rb1,e5,a5,d4,exd4,exd4,a6,b6,Rd2,Rxc3,Rbd1,d3,Qa4,Rc1,Rxd3,Rxd1+,Rxd1,Qf5,Qb4,Qc5,Qg4,Qc4', 'Rd8+,Rxd8,Qxc4', 'https://lichess.org/training/2eTiD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2eUcd', 'Rapid', 'Kazakh_ArmFight', 2302, 'Steinitz63', 2265, 'e4,Nc6,d4,e5,d5,Nce7,c4,Ng6,Nc3,Bc5,Bd3,a6,Nf3,N8e7,h4,d6,h5,Nf4,Bxf4,exf4,Qd2,O-O,Qxf4,f5,h6,fxe4,Qxe4,Bf5,Qe2,Bxd3,Qxd3,Ng6,O-O-O,gxh6,Rxh6,Qf6,Rdh1,Rf7,Ne4,Qf4+,Kb1,Re8,Nxc5,dxc5,Rxg6+,hxg6,Qxg6+,Kf8', 'Rh8+,Ke7,Qe6+,Kd8,Qxe8#', 'https://lichess.org/training/2eUcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2eVks', 'Blitz', 'CM Bierpower', 2423, 'Mart_Chess', 2387, 'e4,c5,Ne2,Nc6,c4,g6,d4,cxd4,Nxd4,Bg7,Be3,d6,Nc3,Nf6,Be2,O-O,O-O,Nd7,Nc2,a6,f3,b6,Qd2,Re8,Rfc1,Bb7,Rab1,Rc8,b4,Nce5,Na3,Qc7,Nd5,Qd8,Bf1,e6,Nc3,Qc7,Qf2,h6,Na4,Bc6,Nxb6,Nxb6,Bxb6,Qb7,c5,g5,cxd6,g4,Rd1,gxf3,gxf3,Nxf3+,Qxf3,Qxb6+,Qf2,Qb7,b5,axb5,Nxb5,Qd7,Nc7,Rf8,Bg2,f5,e5,Bxe5,Qc5,Bxg2,Qxe5,Bc6,Qxe6+,Qxe6,Nxe6,Rf6,Nf4,Rd8,d7,Rxd7,Rxd7,Bxd7,Nd5,Rd6,Ne3,f4,Nc4,Rf6,Ne5,Bf5,Rb7,Be4,Rc7,f3,Kf2,Rf5,Ng4,Rh5,Kg3,Rg5,Kf2,Rg6,Rc8+,Kg7,Rc7+,Kg8,Rc5,Kf8,Re5,Bb7,Rb5,Bc6,Rb8+,Ke7,Rb6,Kd6', 'Rxc6+,Kxc6,Ne5+', 'https://lichess.org/training/2eVks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ExiG', 'Rapid', 'chess23m', 1931, 'isaacgonzalezg', 1929, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,O-O,Nge2,Nbd7,O-O,c5,d5,e6,f4,exd5,cxd5,a6,Kh1,b5,a3,c4,Bc2,Nc5,Nd4,Bd7,b4,cxb3,Bxb3,Nfxe4,Nxe4,Nxe4,Bb2,Rc8,Rc1,Nc5,Bc2,f5,Qf3,Re8,Ba1,Qa5,Bc3,Qxa3', 'Ra1,Qxc3,Qxc3', 'https://lichess.org/training/2ExiG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ez6d', 'Rapid', 'rmt2020', 1632, 'medaibat', 1694, 'd4,Nf6,c4,d5,Nc3,Bf5,Bf4,e6,Nb5,Bd6,Bg5,h6,Bxf6,gxf6,c5,Bf4,e3,c6,Nc3,Bc7,Qa4,Na6,Bxa6,bxa6,Qxa6,Qd7,Na4,Rg8,Nb6,Bxb6,cxb6,Rxg2,b7,Rb8,Qxa7,Qxb7,Qa4,Qb4+,Qxb4,Rxb4,Ne2,Rxb2,a4,Bd3,Kf1,Rg8,Re1,Bxe2+,Rxe2,Rb1+,Re1,Rb2,Ra1,Ke7,a5,Ra8,Kg2,Ra6,Ra4,Rb5,Rc1,Rbxa5,Rxa5,Rxa5,Rxc6,Kd7,Rb6,Ra7,Rb8,e5,dxe5,fxe5,Rf8,Ke6,Rh8,f5', 'Rxh6+,Kd7,Rh7+', 'https://lichess.org/training/2ez6d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2f0Oq', 'Rapid', 'maikkel', 1794, 'Se_Basti', 1721, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,e3,b6,Bd3,Bb7,Nf3,c5,Bc2,Qc7,O-O,cxd4,cxd4,Qxc4,a4,Rc8,Bb3,Qc3,Bd2,Qc7,Rc1,Nc6,Ne5,Qd6,Nc4,Qe7,Re1,Ne4,f3,Nxd2,Qxd2,Rc7,Ne5,Rac8,Bc2,Nxe5,dxe5,Qa3,Red1,Qc3', 'Bxh7+,Kxh7,Rxc3', 'https://lichess.org/training/2f0Oq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2F16J', 'Rapid', 'RK_TheBoss', 1797, 'VasilKorol555', 1777, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,Bd7,O-O,Nc6,Be3,b5,Bf3,Ne5,a4,b4,Nd5,Nxd5,exd5,g6,Nc6,Bxc6,dxc6,Qc7,Bd4,Bg7,Bxe5,Bxe5,c3,bxc3,bxc3,Rb8,Rb1,O-O,Rb7,Rxb7,cxb7,Rb8,Qb3,e6,c4,d5,cxd5,Rxb7,Qa2,Rb2,Qa3,Rd2,dxe6,fxe6,g3,a5,Qb3,Qd6,Bg4,Kf7,Rc1,Kf6,Qf3+,Ke7,Rb1,Rb2', 'Rxb2,Bxb2,Qb7+,Qd7,Qxb2', 'https://lichess.org/training/2F16J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2f1Qd', 'Rapid', 'tascelik', 1755, 'julikonly', 1747, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Bb5+,Bd7,O-O,Bg7,Bxd7+,Nxd7,Be3,Ngf6,Nc3,a6,f3,O-O,Nd5,Nxd5,exd5,Nf6,c4,Re8,Rb1,e6,dxe6,fxe6,Bg5,Kh8,Re1,Qb6,Kh1,e5,Bxf6,Bxf6,Nc2,Rad8,Ne3,Qc5,b3,Bg5,Nd5,Bh6,Qc2,a5,Re4,b5,Qd3,b4,Rd1,Bg7,f4,Kg8,fxe5,Bxe5,h4,Qf2,Ne3,Qxa2,Ng4,Qb2,Qd5+,Kg7,Rxe5', 'dxe5,Qxd8,Rxd8', 'https://lichess.org/training/2f1Qd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2F2Wj', 'Rapid', 'ayaacan', 2156, 'kabulace123', 2146, 'e4,d6,d4,Nf6,Nc3,g6,Bc4,Bg7,Nf3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Nc6,Be3,e6,Rad1,Qe7,Bg5,h6,Bh4,g5,Bg3,Nd7,d5,Nce5,Bxe5,Nxe5,Qe2,Nxc4,Qxc4,exd5,exd5,Rac8,Rde1,Qf6,Re3,c5,Ne4,Qd8,f4,Bd4,Qd3,f5,Ng3,Re8,Nxf5,Bxe3+,Nxe3,gxf4,Qg6+,Kf8,Rxf4+,Ke7', 'Qg7#', 'https://lichess.org/training/2F2Wj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2F3X2', 'Rapid', 'ramso101', 1905, 'Amazinq', 1935, 'd4,d5,e3,f6,Bd3,e5,dxe5,fxe5,Qh5+,Kd7,Qxe5,Nf6,Nf3,Be7,Bf5+,Ke8,Bxc8,Qxc8,Nc3,Nc6,Qg3,Kf7,Ng5+,Kf8,O-O,h6,Nh3,Kf7,Qf3,Rd8,Nf4,Ne5,Qe2,c6,b3,Bd6,Bb2,Neg4,h3,Ne5,Nh5,Nxh5,Qxh5+,Kg8,f4,Nd7,Qg6,Nf6,Nxd5,cxd5,Bxf6,Rd7,Bd4,Bc5,Rad1,Bxd4,Rxd4,Rd6,Qd3,Qe6,Rd1,Re8,Kf2,Qc8,Rd2,Red8,Qe2,Qc5,Kf3,Qa5,a4,Rc8,c4,Qb4,Qd1,Qc3,Rxd5,Re6,Rd8+,Kh7,R2d3', 'Rxd8,Rxc3,Rxd1', 'https://lichess.org/training/2F3X2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Fbzz', 'Blitz', 'lilivmon', 1802, 'stas127', 1900, 'e4,e5,Bc4,Nc6,Nc3,Nf6,d3,h6,a3,a6,Nge2,b5,Ba2,Bc5,O-O,O-O,h3,Bb7,Kh1,g5,Ng3,Ne7,Qf3,Kg7,Nh5+,Nxh5,Qxh5,d5,h4,d4,Ne2,Ng6,hxg5,hxg5,Bxg5', 'Rh8,Bxd8,Rxh5+,Kg1,Rxd8', 'https://lichess.org/training/2Fbzz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2fCPh', 'Classical', 'MikolajPL', 1646, 'wotanellos', 1604, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Qe7,Qe2,Nd5,g3,f6,exf6,Nxf6,Bg5,Qxe2+,Bxe2,Be7,O-O,O-O,Nc3,Re8,Bf4,d6,Bf3,Bd7,Bg5,h6,Bxf6,Bxf6,Rfe1,Kf8,Bh5,Rxe1+,Rxe1,Rb8,Ne2,Rxb2,Nf4,Rxa2,Ng6+,Kg8,Ne7+,Bxe7,Rxe7,Bf5,Rxc7,Be4', 'Bf7+,Kf8,Bxa2', 'https://lichess.org/training/2fCPh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2fdIh', 'Rapid', 'olegop', 1998, 'MatadordeMonstertube', 2032, 'e4,e6,d4,c6,Nc3,d5,e5,c5,Qg4,cxd4,Na4,g6,Nf3,Bg7,c3,dxc3,Nxc3,Nc6,Nb5,Nxe5,Nxe5,Bxe5,Bf4,Qa5+,Bd2,Qb6,Rc1,Nf6,Qe2,Ne4,Bb4,Bd7,a4,Bxb5,axb5,Bd6,Bxd6,Nxd6,Qe5,Ke7,Be2,f6,Qg3,Rac8,Rd1,Ne4,Qf3,Rc2,O-O,Rxb2', 'Qa3+,Qc5,Qxb2', 'https://lichess.org/training/2fdIh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2fEQ7', 'Rapid', 'warringtonE', 2329, 'Secondeater', 2279, 'b3,e5,Bb2,d5,Bxe5,Nc6,Bb2,Nf6,e3,Bd6,f4,O-O,Nf3,Ne4,Be2,Bg4,O-O,f5,c4,dxc4,Bxc4+,Kh8,Nc3,Qe7,Qe1,Bxf3,Rxf3,Nxc3,Bxc3,Bb4,Bb2,Ba3,Bxa3,Qxa3,Rh3,Rf6,Qh4,Rh6,Qg5,Rxh3,gxh3,Qb2,Rd1,Qc2,Be2,Rd8,Kf2,h6,Qg6,Rxd2,Rxd2,Qxd2,Qxf5,Nb4,Qc8+,Kh7,Qf5+,Kh8,Kf3,Nd5,Qe6,Nf6,Qc8+,Kh7,Qxb7,c5,Qc6,Nd5,Qe6,Nc3,Qf5+,g6,Qf7+,Kh8,Qf6+,Kh7,Qe7+,Kh8,Qe8+,Kh7,Bc4,Qd1+,Kf2,Qd2+,Kg1,Qe1+,Bf1', 'Ne2+,Kg2,Nxf4+,exf4,Qxe8', 'https://lichess.org/training/2fEQ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Fg31', 'Rapid', 'feanor2000', 1645, 'ghool5', 1631, 'd4,d5,c4,dxc4,Nc3,e6,e4,h6,Bxc4,Nf6,a3,Be7,Nf3,O-O,h3,Nc6,Be3,Kh8,Qd2,Nh7,O-O-O,Bd7,Kb1,a6,g4,b5,Be2,b4,axb4,Nxb4,Rdg1,f6,h4,Bb5,g5,fxg5,hxg5,Bxe2,Qxe2,Rb8,gxh6,gxh6,Rxh6,c5,Ng5,Bxg5,Bxg5,Qb6,Qh5,Rb7,Rh1,Rff7,Bf6+,Kg8,Rg1+,Kf8,Rxh7,Rxh7,Rg8+,Kxg8', 'Qe8#', 'https://lichess.org/training/2Fg31');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2fgf3', 'Blitz', 'IM Meysonn', 2601, 'GM Renier07', 2718, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,b5,Bxf6,gxf6,a4,b4,Nd5,e6,Nxb4,d5,Nbc6,Nxc6,Nxc6,Qb6,exd5,Qxb2,Be2,Qc3+,Kf1,exd5,Nd4,Bc5,Nb3,Ba7,Bd3,Be6,Qf3,Ke7,Re1,Rab8,h4,Rhg8,Rh3,Rb4,Rg3,Rxg3,Qxg3,Rxa4', 'Rxe6+,fxe6,Qg7+', 'https://lichess.org/training/2fgf3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Fi36', 'Rapid', 'malashko', 1825, 'teodoricoRM', 1841, 'e4,c6,f4,d5,exd5,cxd5,Nf3,Nc6,d4,e6,Bb5,Bd6,O-O,a6,Bxc6+,bxc6,Ne5,Ne7,Nd2,Nf5,Qh5,Bxe5,fxe5,Qb6,Nb3,a5,c3,a4,Nc5,O-O,Rf4,Ba6,Kf2,Qb5,Nxa6,Rxa6,Rg4,a3,b3,Qd3,Qh3,Qc2+,Kg1,Qd1+,Kf2,Qc2+,Ke1,Rc8,Rf4,c5,Rf2,Qe4+,Re2,Qh4+,Qxh4,Nxh4,g3,Nf3+,Kd1,cxd4,cxd4,Rc3,Rc2,Rd3+', 'Ke2,Nxd4+,Kxd3,Nxc2,Kxc2', 'https://lichess.org/training/2Fi36');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2FjvA', 'Rapid', 'tomdeturck', 1669, 'Moskaletty', 1673, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,O-O,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Nc3,Nf6,e5,dxe5,Bg5,Be7,Qxd8+,Rxd8,Rfe1,h6,Bh4,O-O,Rxe5,Rfe8,Rae1,Kf8,Ra5', 'Bb4,Rxe8+,Rxe8,f3,Bxa5', 'https://lichess.org/training/2FjvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2FJXD', 'Rapid', 'Zutreq', 1787, 'Alexander-don-Rassel', 2073, 'e4,Nf6,Nf3,Nc6,b3,e5,Bb2,d6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,d3,Be7,Nc3,b5,Nd5,Nxd5,exd5,Bb7,Re1,Bxd5,d4,e4,Nd2,f5,c4,bxc4,bxc4,Bf7,d5,O-O,Nb3,Rb8,Qd4,Bf6,Qd2,Bxb2,Qxb2,c6,dxc6,Rb6,c5,dxc5,Rad1,Qc7,Qa3,Rxc6,Rc1,Bxb3,Qxb3+,c4,Qb4,c3,Re3,c2,Re2,Rc8,f3,Rc4,Qb3,Qc5+,Kh1,e3,Rcxc2,f4,h3,Kf8,Rxc4,Qxc4,Qa3+,Kg8,Qb2,Qd5,Kh2,a5,a3,Kh8,Rc2,Rxc2,Qxc2,g5,Qc8+,Kg7,Qc7+,Kh6,Qb6+,Kh5,Qf6,h6,Qe7,Kh4,Qf6,h5,Qe7,Qd2,Qc5,e2', 'Qf2#', 'https://lichess.org/training/2FJXD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2FmDO', 'Rapid', 'Mislilac', 2067, 'kanybekfury', 2043, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,Nc6,Nc3,Qb6,Nxc6,bxc6,Bd3,Ne7,O-O,Ng6,Kh1,d5,exd5,cxd5,b3,Bd7,Bb2,Rc8,Ne2,e5,Ng3,e4,Be2,Be6,f3,f5,fxe4,fxe4,Bh5,Qc7,Rc1,a5,a4,Qc5,Nf5,Bxf5,Rxf5,Rd8,Qg4,Qe3,Bxg6+,hxg6,Qxg6+,Kd7,Rf7+,Be7,Rd1', 'Rxh2+,Kxh2,Rh8+,Qh7,Rxh7#', 'https://lichess.org/training/2FmDO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2fnG1', 'Rapid', 'Gonzalete', 1690, 'DarkZorro', 1702, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Nc6,d4,Nf6,Nf3,Bg4,Nbd2,e6,a3,Be7,h3,Bxf3,Nxf3', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/2fnG1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2FnuA', 'Classical', 'VitasF', 1786, 'sekrecupu', 1878, 'e4,e5,Nf3,d5,Nxe5,Be6,exd5,Bxd5,d4,f6,Qh5+,Ke7,Ng6+,hxg6,Qxh8,Kf7,Qh3,Nc6,c3,Qe8+,Be3,Bd6,Bd3,f5,O-O,Nf6,Bg5,Qh8,Qxh8,Rxh8,h3,Ne4,Bxe4,Bxe4,Nd2,Bd3,Rfe1,Nd8,Nf3,Ne6,d5,Nxg5,Nxg5+,Kf6,f4,Bxf4,Ne6,Bd2,Red1,Be3+,Kh2,Be4,Nxc7', 'Bf4+,Kg1,Bxc7', 'https://lichess.org/training/2FnuA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2fTH9', 'Classical', 'xrkt', 1684, 'kozu', 1673, 'd4,d5,c4,c6,Bf4,Nf6,Nf3,Bg4,e3,e6,Be2,Bd6,Ne5,Bxe2,Qxe2,Ne4,c5,Bc7,O-O,f6', 'Qh5+,g6,Nxg6', 'https://lichess.org/training/2fTH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2fVxc', 'Rapid', 'kayascod', 1622, 'qazs3381', 1614, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,c6,Qxd4,d5,exd5,cxd5,Bd3,Nc6,Qh4,Be7,Bg5,O-O', 'Bxf6,h6,Bxe7', 'https://lichess.org/training/2fVxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2fwHg', 'Rapid', 'yacine-zm', 1971, 'Joffaris', 1990, 'd4,Nf6,Nf3,e6,Bg5,d5,Nbd2,c5,e3,Be7,c3,O-O,Bd3,a6,O-O,Nc6,Ne5,Nxe5,dxe5,Nd7,Bxe7,Qxe7,f4,f6,Qh5,g6,exf6,Nxf6,Qh3,e5,Qg3,Nh5,Qg5,Qxg5,fxg5,Bf5,e4,Be6,exd5,Bxd5,g3,Ng7,c4,Bc6,Rae1,Rae8,Ne4,Bxe4,Bxe4,b5,cxb5,axb5,Rc1,Rxf1+,Kxf1,Rc8,Rd1,Nf5,Bxf5,gxf5,Rd5,b4,Rxe5,c4,Rxf5', 'c3,bxc3,bxc3,Kg2,c2', 'https://lichess.org/training/2fwHg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2FxIJ', 'Rapid', 'Tacticien', 1984, 'davidjidov', 1836, 'e4,g6,d4,Bg7,Nf3,e6,Bc4,Ne7,Nc3,O-O,O-O,d5,Bd3,c6,Bg5,Qd7,Qd2,b5,Bxe7,Qxe7,Rfe1,Qd8,Rad1,Nd7,Ne2,Nb6,b3,a6,c3,Bd7,Ne5,f6,Nxd7,Qxd7,f4,Rf7,e5,f5,g4,Kh8,h3,Raf8,Rf1,Nc8,Kg2,Qb7,Kg3,Qc7,c4,Na7,cxd5,cxd5,Rc1,Qb6,Qb4,Rd7,Qc5,Qb8,Rc2,Rc8,Qxa7', 'Rxa7,Rxc8+,Qxc8', 'https://lichess.org/training/2FxIJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2fyxR', 'Blitz', 'Quirov', 2116, 'WFM PershinaElena', 2147, 'd4,e6,Bf4,d5,e3,c5,c3,Nc6,Nf3,Nf6,Nbd2,Be7,Ne5,O-O,Bd3,cxd4,exd4,Bd6,O-O,Bxe5,dxe5,Nd7,Nf3,f6,Re1,fxe5,Bxe5,Rxf3,Qxf3,Ndxe5,Qe3,Qf6,Bc2,Bd7,Rad1,Rf8,f3,Nc4,Qc1,N6e5,b3,Nd6,Qe3,Ng6,Rd4,Nf5,Bxf5,Qxf5,Rd2,Nh4,Rf2,a6,Ref1,Qg6,g3,Bc6,f4,Nf5,Qe5,d4,cxd4,Nxg3,Qg5,Nh5,h4,Qf7,Kh2,Kh8,f5,Qc7+,Kg1,Ng3,Re1,exf5', 'Re7,Qxe7,Qxe7', 'https://lichess.org/training/2fyxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Fz3C', 'Classical', 'shruti17', 1742, 'Pananununa', 1911, 'd4,e6,c4,d5,cxd5,exd5,Nc3,Nf6,Bg5,Bb4,Qa4+,Nc6,e3,Bd7,Qc2,a6,a3,Bxc3+,Qxc3,h6,Bh4,Qe7,Nf3,g5,Bg3,Ne4,Qb3,Nxg3,hxg3,O-O-O,Qxd5,Bg4,Qc4,Bxf3,gxf3,Nxd4,O-O-O,Nc6,Bg2,Rxd1+,Rxd1,Rd8,Rxd8+,Nxd8,f4,Qe6,Bd5,Qf6,fxg5,hxg5,f4,gxf4,gxf4,c6,Qc5,Kd7,Ba2,Ne6,Bxe6+,Qxe6,b4,Qd5,Qxd5+,cxd5,Kd2,f6,Kd3,b6,Kd4,Kd6,a4,Kc6,e4,dxe4,Kxe4,Kd6', 'Kf5,Ke7,Kg6', 'https://lichess.org/training/2Fz3C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2g60E', 'Rapid', 'Nechkin1', 1838, 'califkid', 2066, 'd4,f5,e4,fxe4,f3,e3,Bxe3,Nf6,Nc3,d5,Bd3,Nc6,Bg5,e5,dxe5,Nxe5,Qe2,Qe7,Nxd5', 'Nxd3+,cxd3,Qxe2+,Nxe2,Nxd5', 'https://lichess.org/training/2g60E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2gATC', 'Rapid', 'mohammadsalemeh', 1982, 'Goronhead21', 1935, 'e4,e6,d4,d5,Nd2,c5,c3,Nc6,e5,Bd7,Ngf3,Nge7,Bd3,Qb6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nf3,Qb6,b3,Nc6,Be3,Qc7,Rc1,Qb8,Bf4,Ba3,Rc2,Nb4,Rd2,O-O', 'Bxh7+,Kxh7,Ng5+', 'https://lichess.org/training/2gATC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Ggnu', 'Rapid', 'SharkanovA', 1680, 'lmd1', 1727, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Bb4+,Bd2,Nc6,Bxb4,Nxb4,Qa4+,Nc6,Bb5,Bd7,Bxc6,Bxc6,Qb4,Qb6,Qxb6,axb6,Nc3,f6,Nf3,b5,O-O,b4,Ne2,Bb5,Rfe1,b3,axb3', 'Rxa1,Rxa1,Bxe2', 'https://lichess.org/training/2Ggnu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2gKkO', 'Rapid', 'MemePlays', 1946, 'SuhasChintala', 1989, 'e4,c5,Nf3,d6,h3,Nf6,Bb5+,Bd7,Qe2,a6,Bc4,b5,Bd5,Nxd5,exd5,g6,d4,cxd4,Nxd4,Bg7,c3,O-O,O-O,b4,Be3,a5,Re1,Na6,Nd2,bxc3,bxc3,Qc7,Ne4,Nc5,Nxc5,Qxc5,Qd2,Rfe8,Rac1,Qxd5,Bh6,e5,Bxg7,Kxg7', 'Nf5+,Bxf5,Qxd5', 'https://lichess.org/training/2gKkO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2GlSH', 'Rapid', 'Kmnyto', 1818, 'xkmato', 1681, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,e4,e5,Nf3,Nc6,Bb5,Bd6,d4,exd4,Qxd4,f6,e5,fxe5,Nxe5,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Qxg7,Qe7+,Qxe7+,Nxe7,O-O,O-O-O,Re1,Nf5,Bg5,Rd7,Re2,Nd4,Rae1,Nxe2+,Rxe2,Bb4,f4,Bxc3,bxc3,Rd1+,Kf2,Rc1,f5,Rxc3', 'Bf6,Rc5,Bxh8', 'https://lichess.org/training/2GlSH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2GpWp', 'Blitz', 'Joachim005', 1787, 'david_castro1', 1701, 'e4,d5,exd5,Qxd5,Nc3,Qa5,a3,Nf6,d4,Nc6,d5,Nb4,Bb5+,Bd7,Bxd7+,Nxd7,Be3,Nf6,axb4,Qxb4,Ra4,Qxb2,Bd4,e6,Na2,Qb5,c4,Qd7,Bxf6,gxf6,Ne2,exd5,Qb3,dxc4,Qxb7,Rd8,Nac3', 'Qd2+,Kf1,Qd1+,Nxd1,Rxd1#', 'https://lichess.org/training/2GpWp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2GQ62', 'Classical', 'Dr_Corr', 1852, 'jamesidw', 1711, 'e4,d5,exd5,Qxd5,Nf3,Nf6,Nc3,Qa5,d4,Bg4,a3,e6,b4', 'Bxb4,axb4,Qxa1', 'https://lichess.org/training/2GQ62');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2grhk', 'Rapid', 'saeed2001', 1806, 'Daniyar_1990', 1786, 'e4,e5,Nf3,Qf6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,e5,Qg6,O-O,Ne7,Nh4,Bg4,Nxg6,Bxd1,Nxh8,Bh5,exd6,cxd6,h3,Nbc6,g4,Bg6,Nxg6,hxg6,d5,Ne5,Bb5+,Kd8,Nc3,a6,Be2,Kc7,Be3,Ba5,Rac1,Kd7,a3,Rh8,Kg2,f5,b4,Bc7,gxf5,Nxf5,Ne4,Nh4+,Kg3,Nf5+,Kg2,Nh4+,Kh2,Bd8,Bg5,Nef3+,Bxf3,Nxf3+,Kg3,Nxg5,Nxg5,Bxg5,f4,Bd8,Rc4,g5,Rfc1,gxf4+,Rxf4,Bf6,Kg4,Rh4+,Kf3,Rxh3+,Ke4,Rxa3,Rf3,Ra2,Rb1,Re2+,Kd3,Re5,Kc4,Re4+,Kd3,Rd4+,Ke3,Rxd5,Rh3,Kc6,Ke4,Re5+,Kf4,Re8,Kf5,Re5+,Kf4,Rd5,Ke4,b5', 'Rc1+,Rc5,bxc5', 'https://lichess.org/training/2grhk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2gSvk', 'Blitz', 'vatashow', 2148, 'valeleri', 1976, 'e4,c5,Nf3,a6,c3,e6,d4,d5,exd5,Qxd5,Bd3,Nc6,O-O,cxd4,cxd4,Nf6,Nc3,Qd8,Bg5,Be7,h3,O-O,Re1,b5,a3,Bb7,Rc1,Rc8,Qe2,Nxd4,Nxd4,Qxd4,Be3,Qh4,f3,Rfd8,Bb1,Nd5,Bf2,Qg5,Nxd5,Bxd5,Rxc8,Rxc8,Rd1,h6,Qd3,Rc1', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/2gSvk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2gy38', 'Classical', 'norbik6', 1672, 'sebb7y', 1668, 'd4,Nf6,c4,e6,Bg5,c6,Nf3,h6,Bxf6,Qxf6,Nc3,Bb4,e3,d5,cxd5,cxd5,Bd3,Nc6,O-O,e5,Nxd5,Qd6,Bc4,Be6,e4,O-O,Qb3,Bxd5,exd5,Nxd4,Nxd4,exd4,Rfd1,Bc5,Qxb7,Rab8,Qc6,Rxb2,Qxd6,Bxd6,Rxd4,Bc5,Rf4,Rfb8,Bb3,Re8,g3,Ree2,Rf1,Bd6,Rf3,g5,Rd3,Bc5,Rf3,Kg7,g4,Kg6,h3,Bd6,Re3,Bh2+,Kh1,Rxf2,Rxf2,Rxf2,Re7,Bd6,Rxa7,Rh2+,Kg1,Rxh3,Ra6,Rg3+,Kf1,Rf3+,Ke2,Rf6,Kd3,h5,gxh5+,Kxh5,Kc4,g4,Bd1,Kh4,Bxg4,Kxg4,a4,Rf4+,Kb5,Rf6,Kc6,Bb8+,Kb5,Rxa6,Kxa6,Kf5', 'Kb7,Bd6,a5', 'https://lichess.org/training/2gy38');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2gyRe', 'Rapid', 'gdell', 2028, 'MachinaDelDiablo', 2171, 'e4,c6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,Bf5,Ne2,e6,O-O,Bd6,Bg5,Nbd7,c4,Qc7,h3,h6,Bh4,O-O,Nbc3,a6,Bg3,Rac8,Bxd6,Qxd6,b3,b5,Ng3,Rfd8,Nxf5,exf5,Ne2,Nf8,Qc2,g6,Rad1,Ne6,Qb2,Ng5,Qc3,Nfe4,Qb2,Nxf3+,gxf3,Ng5,Kg2,Qe6,Nf4,Qd6,Qd2,Kh7,c5,Qc7,b4,Qd7,h4,Ne6,Ne2,a5,a3,a4,Qc3,f4,Qc1,g5,Qc2+,Kg7,Qf5,Qd5,Qxd5,Rxd5,hxg5,hxg5,Rd3,Rcd8,Rfd1,Rh8,Rh1,Rhd8,Rhd1,Nc7,Nc3,R5d7,Ne4,Kg6,Nd6,Nd5,Re1,Rxd6,cxd6,Rxd6,Re5,f6,Re8,Kf7,Rh8,Kg7,Rh1,Nb6,Rc1,Nc4,d5,cxd5,Rcd1,Nb6,Kh3,Kf7,Kg4,Ke6,Re1+,Kd7,Kf5,Nc4,Red1', 'Nb2,Rxd5,Nxd1', 'https://lichess.org/training/2gyRe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2h1i1', 'Rapid', 'Badass_Squad', 1611, 'Luis_fajardo', 1794, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,Nf6,e5,Qe7,Bf4,Ne4,Bd3,Qh4,Bg3,Nxg3,fxg3,Qd4,Nc3,Qxe5+,Be4,Be7,Qd3,h6,O-O-O,O-O,Rhe1,Bg5+,Kb1,Qc7,Bh7+,Kh8,Nd5,Qc6,Ne7,Bxe7,Rxe7,g6,Bxg6,Qxg6,Qc3+,Kg8,Qxc5,b6,Qc3,Qc6,Qf3,Qxf3,gxf3,f5,Rde1,Rf7,Re8+,Kg7,g4,fxg4,fxg4,Bb7,R8e5,Bf3,Rf1,Bxg4,Rg1,Kf6,Re4,h5,Rf4+,Ke6', 'Re1+,Kd6,Rxf7', 'https://lichess.org/training/2h1i1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2h33P', 'Blitz', 'GM enmQ', 2703, 'Alen_Yeremyann', 2596, 'b3,Nf6,Bb2,g6,Bxf6,exf6,g3,Bg7,d4,O-O,Bg2,f5,e3,d6,h4,h5,Ne2,Nd7,Nd2,Nf6,Nf4,c6,O-O,Bd7,c4,Ng4,Nf3,Qe7,Rc1,Rae8,c5,d5,b4,Bh6,Rc3,a6,a4,Nf6,Rb3,Kh7,Ne5,Ne4,Bxe4,fxe4,Nxd7,Qxd7,b5,axb5,axb5,Bxf4,exf4,Ra8,Qd2,Ra4,bxc6,bxc6,Rfb1,Rfa8,Kg2,Ra2,R1b2,Rxb2,Qxb2,Qg4,Ra3,Rxa3,Qxa3,Qd1,Qe3,Kg7,f5,Qg4,fxg6,fxg6,Qg5,Qf3+,Kg1,Qd1+,Kg2,Qxd4,Qe7+,Kh6,Qg5+,Kh7,Qe7+,Qg7,Qe6,Qc7,f3,exf3+,Kxf3,Kg7,Kg2,Qb7,Qe5+,Kf7,Qh8,Qb5,Qh7+,Kf6,Qh8+,Kf5,Qf8+,Ke4', 'Qf4+,Kd3,Qf1+', 'https://lichess.org/training/2h33P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2H6VM', 'Blitz', 'Mousajavadi', 1930, 'MelgarFBC', 2022, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Bg5,Be7,Nf3,O-O,Nbd2,b6,O-O,h6,Bh4,Bb7,Re1,Nbd7,Nf1,Ne4,Bxe7,Qxe7,Ng3,f5,Nd2,Qf6,c3,c5,Nh5,Qg5,f4,Qh4,Bxe4,fxe4,Re3,Rxf4,Nxf4,Qxf4,Qe2,cxd4,cxd4,Qf6,Nb3,a5,Rf1,Qe7,Qg4,a4,Nd2,Rc8,Rc3,Rd8,Rc7,Bc8,Qf4,Qb4,Qf7+,Kh7,Rfc1,Qxd4+,Kh1,Nc5,Rxc8,Rxc8,Qf5+,g6,Qxc8,Qxd2,Rf1,h5,Rf7+,Kh6,Qh8+,Kg5,Qe5+,Kh6,Qg7+,Kg5,h4+,Kxh4,Rf1,Qg5,Qc7,Nd3', 'Qh2+,Kg4,Qh3#', 'https://lichess.org/training/2H6VM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2h77R', 'Blitz', 'Furious_pawn', 1956, 'svkfox', 2042, 'c4,e6,Nf3,d5,d4,c6,cxd5,exd5,Nc3,f5,Bg5,Nf6,e3,Nbd7,Bd3,Bd6,Qc2,O-O,Bxf5,h6,Bh4,Qe8,Bg3,Bb4,a3,Bxc3+,bxc3,Ne4,Bxe4,dxe4,Ne5,Nxe5,Bxe5,Qg6,O-O-O,Bg4,f3,Bf5,f4,Be6,h3,Bc4,g4,Bd3,Qb3+,Qf7,Qb4,a5,Qd6,Qa2,Rxd3,exd3,Rh2,Qxh2,Qe6+,Kh8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/2h77R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hACm', 'Rapid', 'Egneto', 1616, 'baltkot', 2102, 'e4,c5,Qh5,Nf6,Qxc5,e6,Qe3,b6,d4,Bb7,e5,Nd5,Qg3,Qc7,c3,h5,Nf3,Be7,Bg5,Nc6,Bxe7,Ncxe7,Qxg7,Rg8,Qh7,O-O-O,Qxh5,Nf4,Qxf7,Nf5,g3,Bxf3,gxf4,Bxh1,Nd2,Rdf8,Qh5,Rg1,O-O-O,Qc6', 'Ba6+,Kc7,Rxg1', 'https://lichess.org/training/2hACm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2HaJH', 'Rapid', 'Sagar_M1', 1646, 'EmiRoR', 1685, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,d5,exd5,Nxd5,Re1,Bd6,d4,Nb6,Bb3,O-O,dxe5,Nxe5,Nxe5,Qf6,Nf3,Rd8,Nc3,Bg4,Nd5,Nxd5,Bxd5,c6,Bxf7+,Qxf7,Qe2,Re8,Be3,Bf4,Qd3,Rad8,Qc3,Bxf3,gxf3,Qg6+,Kf1,Bxe3,Rxe3,Rxe3,Qxe3,Re8,Qb3+,Kh8,Qxb7,Qxc2,Qd7,Qc4+,Kg2,Rg8,Qxa7,Qe6,Rc1,Qg6+,Kf1,Qh5,Rxc6', 'Qb5+,Kg2,Qxc6', 'https://lichess.org/training/2HaJH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hb68', 'Blitz', 'Bormar', 1817, 'expert_21', 1851, 'e4,e6,d3,d5,e5,c5,f4,Nc6,Nf3,f6,c3,d4,c4,f5,Nbd2,g6,a3,Bg7,Be2,Nge7,O-O,O-O,Rf2,a6,Nf1,b5,b3,Bb7,Ng5,Rc8,Nxe6,Qd7,Nxf8,Rxf8,Bf3,Na5,cxb5,axb5,b4,cxb4,axb4,Bxf3,Qxf3,Nb3,Rb1,Qe6,Rfb2,Nxc1,Rxc1,Nd5,Nd2,Ra8,h3,Bh6,Rc5,Nxf4,Rxb5,Rc8,Rc5,Rd8,b5,Nd5,Rc6,Qd7,Rbc2,Ne3,Rc1,Nd5,e6,Qe7,b6,Bxd2,R1c2,Be3+,Kh1,Rb8,Qxd5,Qh4,Qf3,Qe1+,Kh2,f4,h4,Bf2,Kh3', 'Qh1+,Kg4,Qxh4#', 'https://lichess.org/training/2hb68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hBir', 'Rapid', 'Eico8', 1813, 'GreenArrow15031996', 1832, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,c6,Bd3,Qc7,Nf3,Bg4,h3,Bh5,Be2,e6,Ne5,Bg6,Nxg6,hxg6,g3,Nbd7,Bf4,Bd6,Bxd6,Qxd6,Qd3,O-O-O,O-O-O,Nb6,Bf3,Nbd5,Nxd5,Nxd5,Qb3,Qb4', 'Bxd5,Qxb3,Bxb3', 'https://lichess.org/training/2hBir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hG9d', 'Rapid', 'dancantplay', 1678, 'Loriano', 1677, 'e4,c5,Nf3,d6,d4,b6,c3,Ba6,Be2,c4,b3,b5,bxc4,bxc4,Nbd2,g6,Nxc4,Bg7,Ncd2,Bxe2,Qxe2,Nf6,O-O,O-O,Nc4,Nbd7,Bg5,d5,exd5,Nxd5,Qd2,Qc7,Ne3,N7b6,Rac1,h6,Bh4,Nxe3,Qxe3,Nc4,Qxe7,Qf4,Rfe1,Rfe8,Qc5,Rec8,Qd5,Nd2,Bg3,Nxf3+,gxf3,Qd2,Qb3,h5,h4,Qd3,Kg2,a5,Re7,Qf5,Rce1,a4,Qb4,Bf8,R7e5,Bxb4,Rxf5,gxf5,cxb4,Rc2,a3,Ra2,Re3,Rc8,d5,f6,d6,Rd2,Bf4,Rd8,Re6,Kf7', 'Re7+,Kg6,Bxd2', 'https://lichess.org/training/2hG9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2HHZv', 'Rapid', 'hutsugyo', 1847, 'ShakkiVemmu', 1875, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Bd3,Bc5,Nxc6,dxc6,O-O,O-O,Bf4,Bd6,Be3,Re8,Nd2,Qe7,f3,Bc5,Bxc5,Qxc5+,Kh1,Nh5,Nb3,Qb6,Qe2,Re6,e5', 'Ng3+,hxg3,Rh6#', 'https://lichess.org/training/2HHZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2HjfV', 'Rapid', 'mallorcatom', 1876, 'Zhigalko1000', 1861, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Qd3,Nc6,a3,e6,Be2,Nf6,Bg5,Be7,Bxf6,Bxf6,c3,O-O,Nbd2,Re8,O-O,e5,dxe5,Nxe5,Nxe5,Bxe2,Qxe2,Rxe5,Qd3,Qe7,Nf3,Re2,Rab1,Rd8,Rfe1,Rxe1+,Rxe1,Qd6,h3,h6,Qb5,Qc6,Qa5,b6,Qxa7', 'Ra8,Ne5,Bxe5,Qxa8+,Qxa8', 'https://lichess.org/training/2HjfV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2HKks', 'Blitz', 'vlackstormz', 2064, 'zanganox', 2152, 'e4,c5,Nf3,e6,d3,Qc7,Nbd2,b6,g3,Bb7,Bg2,Nc6,O-O,h5,Re1,Be7,Nf1,h4,Bf4,d6,d4,f6,d5,e5,dxc6,hxg3,cxb7,gxh2+,Bxh2,Qxb7,Bg3,g5,Ne3,O-O-O,Nd5,Bf8,Nd2,Ne7,c4,Nxd5,cxd5,Qh7,Qg4+,Kb8,Kf1,Be7,Ke2,Rdf8,Qf5,Qh5+,Bf3,Qf7,Rh1,Qe8,Bg4,Qb5+,Kf3,Qxb2,Rxh8,Rxh8,Rd1,Qc2,Ke2,c4,Qd7', 'Qd3+,Ke1,Rh1+,Nf1,Rxf1#', 'https://lichess.org/training/2HKks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hkol', 'Rapid', 'japcan2', 1886, 'Mr_Greek', 2066, 'd4,Nf6,c4,d6,Nc3,Nbd7,Nf3,e5,e4,Be7,h3,O-O,d5,a5,Bd3,Nc5,Bc2,Ne8,O-O,f5,exf5,Bxf5,Be3,b6,a3,Qd7,Nh2,Bxc2,Qxc2,a4,Rae1,Nf6,f4,exf4,Bxf4,Nh5,Bc1,Bf6,Rf3,Be5,Ne2,Rae8,Ref1,Rxf3,Nxf3,Ng3,Nxe5,Nxe2+,Qxe2,Rxe5,Qf3,Qe8,Qg3,Re2,Bh6,Re7,h4,Ne4,Qg4,Nc5,Kh2,Nd7,Re1,Nf6,Qg3,Kh8', 'Bxg7+,Rxg7,Rxe8+', 'https://lichess.org/training/2hkol');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2HnaL', 'Classical', 'Seruso', 2056, 'SeiyaChess', 1934, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,Be3,Be7,g4,d5,e5,Nfd7,Nxd5,exd5,e6,Nf6,exf7+,Kxf7,g5,Ne4,Bg4,Bxg4,Qxg4,Qa5+,c3,Ke8,Qe6,Rf8,O-O,Nd7,f3,Ndc5,Qxd5,Rd8,Qe5,Nd6,Ne6,Rf5', 'Nxg7+,Kd7,Nxf5', 'https://lichess.org/training/2HnaL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hnjU', 'Rapid', 'ictiologo', 1825, 'WhereIsMyAnchor', 1678, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Be6,e3,Nc6,a3,Qd7,Nge2,O-O-O,O-O,Nxc3,Nxc3,Bh3,b4,Bxg2,Kxg2,h5,h4,Ne7,Qb3,Nd5,Nxd5,Qxd5+,Qxd5,Rxd5,Rd1,Be7,Bb2,g5,hxg5,h4,gxh4,Rxh4,d4,e4,Rh1', 'Rxg5+,Kf1,Rxh1+', 'https://lichess.org/training/2hnjU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hp2C', 'Classical', 'Thorste', 1645, 'rcaldic', 1629, 'e4,c5,Nc3,a6,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Nxd4,Qxd4,b5,Be2,Nf6,Bg5,Be7,Bf3,O-O,e5,Nd5,Nxd5,Bxg5,Nb6,Rb8,Nxc8,Rxc8,c3,f6,O-O,Rc4,Qa7,fxe5,Qxa6,Bh4,g3,Qg5,Qxb5,Rcf4,Bg2,Rxf2,Rxf2,Qe3,Rf1,Bd8,Qxd7,Bb6,Qxe6+,Kh8,Qe7,Bc5,Qh4', 'Rxf2,Qd8+,Rf8+,Kh1,Rxd8', 'https://lichess.org/training/2hp2C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2HpwA', 'Rapid', 'gonzalonoriega', 1803, 'weiherhase', 1608, 'e4,e5,Nf3,d6,Nc3,Nf6,Bc4,h6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Be3,Be7,Rd1,Nbd7,Bb5,c6,Bc4,O-O,O-O,Qa5,Qg3,Kh8,h3,b5,Bb3,Bb4,Bd2,Bxc3,Bxc3,Qc7,Rfe1,a5,a3,b4,axb4,axb4,Bxb4,c5,Bc3', 'c4,Bxc4,Qxc4', 'https://lichess.org/training/2HpwA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hqE5', 'Blitz', 'Sasha195708', 1891, 'Bro775', 1840, 'e4,e5,d4,exd4,Nf3,Bb4+,c3,dxc3,bxc3,Bc5,Bc4,Nf6,e5,d5,exf6,dxc4,Qxd8+,Kxd8,fxg7,Re8+,Be3,Bxe3,fxe3,Rxe3+,Kf2,Re8,Rd1+,Bd7,Na3,Rg8,Nxc4,Rxg7,Nce5,f6,Ng4,Rxg4,Rd3,Nc6,Rad1,Rg7,Nh4,Ne5,Rd5,c6,Rd6,Ke7,g3,Rag8,c4,Be6,c5,Rg5,Nf3,Nxf3,Kxf3,Bd5+,Kf2,Rf5+,Ke3,Rf3+,Ke2,Ra3,Rd2,Bf3+,Kf2,Bg4,R6d4,f5,Rd7+,Kf6', 'R2d6+,Kg5,h4+,Kh5,Rxh7#', 'https://lichess.org/training/2hqE5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2HQIc', 'Rapid', 'nohci96', 1677, 'Bodolache1', 1693, 'd4,c5,d5,d6,c4,e6,e4,Be7,Ne2,Nf6,Ng3,e5,Be2,Bd7,h3,a6,Bg4,b5,b3,Qc8,Nf5,Nxg4,Qxg4,g6,Nxd6+,Bxd6,Qf3,bxc4', 'Qf6,Rf8,Qxd6', 'https://lichess.org/training/2HQIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2HQjR', 'Rapid', 'Den_Sharavara', 1788, 'fifsandnics2018', 1721, 'd4,d5,c4,e6,Nc3,h6,e3,Nf6,Bd3,Bb4,Ne2,O-O,O-O,Nc6,a3,Bxc3,Nxc3,Ne7,Bd2,b6,cxd5,Nexd5,Qc1,Bb7,e4,Nxc3,bxc3,Rc8,e5,Nd5,Bxh6,g6,Bxf8,Qxf8,Be4,c5,Bxd5,Bxd5,c4,Bb7,dxc5,Rxc5,f4,Ba6,Rf3,Rxc4,Rc3', 'Qc5+,Qe3,Rxc3', 'https://lichess.org/training/2HQjR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hr9E', 'Blitz', 'Uhvat', 2157, 'Benjie18', 2123, 'd4,Nf6,Nf3,d5,Bf4,Bf5,e3,e6,Bd3,Bg6,Nbd2,Bd6,Bg3,Nbd7,Qe2,Nh5,Bxg6,hxg6,Bxd6,cxd6,e4,dxe4,Nxe4,Qb6,c3,Nhf6,Neg5,Rc8,O-O,d5,Rfe1,a6,Qd3,Qd6,Nxe6,fxe6,Qxg6+,Kd8,g3,Kc7,Ne5,Ne4,Nf7,Qf8,f3,Rh6,Nxh6,Qxf3,Ng4,Ndf6,Rf1,Qxg4,Qxg4,Nxg4,Rf7+,Kd6,Rxg7,Ne3,Rxb7,Rf8,Rb6+,Ke7,Rxa6,Rf2,Re1', 'Rg2+,Kh1,Nf2#', 'https://lichess.org/training/2hr9E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2HrH1', 'Classical', 'nimitdesai', 1800, 'Dautresale', 1768, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,c6,Qc2,Nbd7,a3,Bd6,e3,h6,Bxf6,Qxf6,cxd5,exd5,Nf3,O-O,Bd3,Re8,O-O,Nf8,Rfe1,Bg4,Be2,Ng6,e4,dxe4,Nxe4,Qf5,Bd3,Bxf3,Nxd6,Rxe1+,Rxe1,Qg5,Bf1,Nf4,Ne4,Bxe4,Qxe4', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/2HrH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hTnD', 'Rapid', 'mpife58', 1894, 'Blickopa', 1907, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,c3,Nf6,Bg5,Be7,Be2,Nxe4,Bxe7,Qxe7,Nxc6,bxc6,O-O,O-O,Bd3,Nf6,Re1,d5,c4,Rb8,cxd5,cxd5,b3,Rb4,Qd2,Rd4', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/2hTnD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hulT', 'Blitz', 'Megakosmico', 2305, 'FM CheckRaiseMate', 2425, 'e4,c5,a3,g6,Nc3,Bg7,f4,Nc6,Nf3,e6,b4,cxb4,axb4,Nxb4,Ba3,Bxc3,dxc3,Nc6,e5,Nge7,Ng5,d5,exd6,Nd5,Bb5,Qb6,c4,Qe3+,Qe2', 'Qc3+,Qd2,Qxa1+', 'https://lichess.org/training/2hulT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hWIS', 'Bullet', 'O_3HAHuE', 1504, 'El_gusanito_de_oro', 1572, 'e4,e5,Nf3,d5,d4,dxe4,Ng5,Bf5,Bc4,Nh6,Qh5,Bg6,Bxf7+,Nxf7,Qg4,Nxg5,Bxg5,Qxd4', 'Qe6+,Be7,Qxe7#', 'https://lichess.org/training/2hWIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2hWku', 'Blitz', 'gambit04', 1702, 'Sergey1972', 1712, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,Nxd4,Bc5,Be3,Nxe4,Qf3,d5,Nxc6,bxc6,Bxc5,Nxc5,Bd3,O-O,O-O,Re8,Nc3,Nxd3,Qxd3,a5,Rfe1,Rxe1+,Rxe1,Ba6,Qf5,g6,Qf3,Qd7,Na4,Qd6,Nc3,Kf8,a3,d4,Ne4,Qe7,h3,Re8,Qf4,c5', 'Qh6+,Kg8,Nf6+,Qxf6,Rxe8#', 'https://lichess.org/training/2hWku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2HxfS', 'Rapid', 'ur2ez4me', 1697, 'IcyFruit', 1617, 'e4,d6,c4,Nf6,Nc3,g6,d4,Bg7,Be3,c6,Qd2,O-O,Bh6,Nh5,Bxg7,Nxg7,Qh6,Qa5,Be2,Be6,d5,cxd5,exd5,Bf5,Nh3,Nd7,Ng5,Nf6,h3,Rfc8,g4,Be4,O-O,Bc2,Rac1,Bf5,gxf5', 'Nxf5,Nxf7,Nxh6', 'https://lichess.org/training/2HxfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2i1rK', 'Rapid', 'PAVELA', 2039, 'Dhanlala', 1967, 'e4,e5,Bc4,Nc6,c3,Nf6,d3,Be7,a3,d6,h3,Be6,Bxe6,fxe6,Qb3,Qc8,Nf3,h6,Be3,O-O,Nbd2,a6,d4,exd4,cxd4,Kh8,d5,exd5,exd5,Nd8,O-O,Rb8,Rac1,Nf7,Rc2,Qd7,Rfc1,Bd8,Nh4,Ne5,f4,Nh5,fxe5,Bxh4,e6,Qd8,Rxc7,Qf6,Rf1,Qe5,Rxf8+,Rxf8,Nf3', 'Rxf3,Rc8+,Kh7', 'https://lichess.org/training/2i1rK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2I6yZ', 'Blitz', 'skraval', 1979, 'romarina', 1950, 'e4,c5,Nf3,Nc6,Bc4,d6,c3,Nf6,d3,g6,O-O,Bg7,Bg5,O-O,a3,a6,Nbd2,b5,Ba2,e6,b4,cxb4,axb4,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Qc7,d4,d5,e5,Ne4,Nxe4,dxe4,Qg4,Ne7,Bb1,Bb7,f3,Qxc3,Bxe4,Qxd4+,Kh1,Bxe4,Bxe7,Qxe5,fxe4,f5,exf5,exf5,Qg5,Rf7,Rae1,Qc3,Bc5,a5,Re6,axb4,Bd6,Qc4,Rfe1,Ra1,Re8+,Kh7,Qh5+,Bh6,Rxa1,Qd5,Rae1,Rg7,Bg3,b3,R8e5,Qd3,Rxf5,b2,Rf6,b1=Q,Qxh6+,Kg8,Re6', 'Qf1+,Rxf1,Qxf1#', 'https://lichess.org/training/2I6yZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2iAN0', 'Rapid', 'milan26', 1965, 'Pedro_37', 2127, 'd4,d5,e3,g6,Bd3,Bg7,f3,Nf6,Ne2,O-O,O-O,a6,c3,Nc6,b3,e5,Bb2,e4,fxe4,Nxe4,Bxe4,dxe4,c4,Bh6,Nf4,Qg5,Nd2,Bf5,Qe2,Rfe8,a3,Bg4,Qf2,f5,Rae1,Nd8,d5,c6,b4,Bg7,Bxg7,Kxg7,Qg3,Qf6,h3,g5,hxg4,gxf4,Rxf4,Kh8,Rxf5,Qc3,Qf3,Qxd2', 'Rf8+,Kg7,Qf6#', 'https://lichess.org/training/2iAN0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2iCnx', 'Blitz', 'Nadir82', 1598, 'Raph99986', 1603, 'd4,Nf6,Nc3,d5,e4,e6,e5,Nfd7,f4,c5,Nf3,c4,b3,Qa5,Bd2,Bb4,Na4,b5,c3,Be7,b4,Qxa4,Qxa4,bxa4,Ng5,h6,Nh3,Nc6,Be2,a5,a3,O-O,Bd1,axb4,axb4,Nb6,O-O,a3,g4,f6,f5,exf5,gxf5,fxe5,Rf2,e4,Rg2,Kh7,Bg4,Bxf5,Bxf5+,Rxf5,Rg4,Bg5,Bxg5,hxg5,Nxg5+,Kh6,Ne6,g5,h4,gxh4,Rxh4+,Kg6,Ra2,Ne7,Rg2+,Kf6,Rh6+,Kf7,Rg7+,Ke8,Rh8+,Kd7,Nc5+,Kc6,Rh6+,Kb5,Rxe7,a2', 'Rxb6+,Kxb6,Rb7+,Kc6,b5+,Kd6,Rd7#', 'https://lichess.org/training/2iCnx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Idgu', 'Bullet', 'siti_angel', 1705, 'Johnnyboy2410', 1666, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,O-O,d4,exd4,cxd4,Bb6,Bg5,h6,Bxc6,bxc6,Bh4,Ba6,Re1,g5,Bg3,f5,exf5,Nxf5,Nc3,Qf6,Kh1,g4,Ne5,d6,Nxc6,Bb7,Qxg4+,Kh7,d5,Bxc6,dxc6,Nxg3+,fxg3,Rae8,Nd5', 'Rxe1+,Rxe1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/2Idgu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2iETA', 'Classical', 'iamkindofgoodatchess', 1611, 'RafaFerrando', 1719, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bg4,c3,Nf6,Re1,Be7,d4,O-O,Bg5,exd4,cxd4,a6,Bxc6,bxc6,Nbd2,Rb8,b3,Rb4,Qc2,Bxf3,Nxf3,Ng4,Qd2,Bxg5,Qxb4,Qf6,e5,dxe5,dxe5,Qf4,Rad1,Qxb4,Nxg5,Nxf2,Kxf2,Qf4+,Nf3,g5,h3,g4,hxg4,Qxg4,Rd4,Qf5,g4,Qc2+,Rd2,Qc5+,Kg3,h6,g5,hxg5,Nxg5,Qe7,Nf3,Qe6,Nd4,Qg6+,Kf3,f5', 'Rg2,Qxg2+,Kxg2', 'https://lichess.org/training/2iETA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2iFE9', 'Rapid', 'janganbermain', 2130, 'OrangeMeatFish', 2076, 'd4,f5,Bg5,h6,Bf4,Nf6,Be5,e6,Nd2,Nc6,Bxf6,Qxf6,c3,d5,h4,Bd7,e3,O-O-O,a4,e5,dxe5,Qxe5,Ngf3,Qe6,Nb3,f4,Nbd4,Nxd4,Nxd4,Qe4,Qf3,fxe3,fxe3,Bg4,Qxe4,dxe4,Bc4,Bd6,O-O,Rdf8,Bd5,Bg3,Bxe4,Bxh4,a5,Bg5,a6,Bxe3+,Kh1,b6,Nc6,Be2,Nxa7+,Kd7,Rxf8,Rxf8,Nc6,Rf4,a7', 'Rh4#', 'https://lichess.org/training/2iFE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ifiP', 'Classical', 'appun', 1758, 'Linares65', 1729, 'd4,d5,Bf4,Bg4,Nf3,e6,Ne5,Bh5,g4,Bg6,h4,h6,f3,Bb4+,c3,Ba5,Qa4+,c6,Nd2,Bc7,Qb4,Bb6,a4,a5,Qa3,Ne7,g5,hxg5,Bxg5,f6,Nxg6,Nxg6,Be3,Nxh4,Bf2,Nxf3+,exf3,Rxh1,O-O-O,Bc7,Qb3,Ra7,Qc2,Bf4,Qg6+,Kf8,Qg4,Bxd2+,Kxd2,Qe7,Re1,f5,Qg3,Nd7,Be3,Nf6', 'Qb8+,Kf7,Qxa7', 'https://lichess.org/training/2ifiP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2IfuL', 'Rapid', 'cleberfreire', 1650, 'totonsasono', 1601, 'e4,e5,Nf3,Nc6,Bb5,Be7,O-O,d6,d4,exd4,Nxd4,Bd7,Nc3,Bf6,Be3,Nge7,Re1,O-O,h3,d5,exd5,Nxd4,Bxd7,Qxd7,Bxd4,Bxd4,Qxd4,b6,Rad1,Nc8,d6,Nxd6,Ne4,Rae8,Ng5,Rxe1+,Rxe1,Qf5,Ne4,Kh8,Nxd6,cxd6,Qxd6,Rc8,c3,h6,Re7,Qb1+,Kh2,Qxb2,Qd7,Qxc3,Rxf7,Qe5+,g3,Rc2', 'Rf8+,Kh7,Qd3+', 'https://lichess.org/training/2IfuL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ihth', 'Rapid', 'mic_7902', 1950, 'SchachChef', 1859, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nxc6,bxc6,Bd3,e5,O-O,Nf6,Nc3,Be7,Kh1,O-O,f4,exf4,Bxf4,Qb6,Qd2,Qxb2,Rfb1,Qa3,Rb3,Qc5,Be3,Qh5,Rf1,Ng4,h3,Nxe3,Qxe3,Bf6,Ne2,Be6,Rb7,Rfb8,Rfb1,Rxb7,Rxb7,a5,Qa7,Rf8,Rb8,g6,Rxf8+,Kxf8,Qe3,Bxa2,Ng3,Qe5,Ne2,Bg5,Qb6,Qc5,Qb8+,Kg7,Qc7,Bb1,Ng3,Bxc2,Bxc2,Qxc2,Qxd6,Qc1+,Kh2,Bf4,Qd4+,Kh6,Qh8,Qe1,Qf8+,Kg5,Qe7+,Kh6,Qf8+,Kg5,Qe7+,f6,h4+,Kxh4,Qxf6+,Bg5,Qf3,Qd2', 'Nf5+,gxf5,Qh3#', 'https://lichess.org/training/2ihth');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2iI5k', 'Rapid', 'Pthaloskies', 1600, 'krozay', 1640, 'd4,Nf6,e3,e6,Bd3,Bb4+,Bd2,Bxd2+,Nxd2,O-O,Ngf3,Nc6,Qe2,Re8,a3,h6,O-O,a5,e4,d6,e5,dxe5,dxe5,Nd5,Bb5,a4,Nd4,Bd7,Nxc6,Bxc6,Bd3,Qg5,Nf3,Qg4,h3,Nf4', 'hxg4,Nxe2+,Bxe2', 'https://lichess.org/training/2iI5k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2IjBx', 'Rapid', 'ttrraa', 2046, 'arrow30', 2234, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,a6,Bf4,Bf5,e3,b5,cxb5,cxb5,Bd3,Bxd3,Qxd3,e6,a3,Bd6,Bg3,O-O,O-O-O,b4,axb4,Bxb4,Kd2,Ne4+,Ke2,Bxc3,bxc3,Qa5,Rc1,Nc6,Nd2,Nxd2,Kxd2,Rac8,Ra1,Qb5,Rxa6', 'Qb2+,Qc2,Qxc2+,Kxc2,Nb4+,Kd2,Nxa6', 'https://lichess.org/training/2IjBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2iJnX', 'Rapid', 'Kvelematt', 2127, 'UselessP1ayer', 2095, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,c4,Nf6,Nc3,Bb4,Qd3,Ne5,Qc2,O-O,Bd2,d5,exd5,exd5,O-O-O,Nxc4,Bg5,Qb6,Bxf6,Bxc3,Qxc3,Qxf6,Bxc4,dxc4,f3,Bd7,Rhe1,Rfe8,Nc2,Qxc3,bxc3,Ba4,Rxe8+,Rxe8,Rd2,Bxc2,Kxc2,f6,a4,Kf7,Kb2,a6,a5,Re5,Rd7+,Re7,Rd4,Re2+,Ka3,Rxg2,Rxc4,Rxh2,Rc7+,Kg6,Rxb7,Rf2,Rb6,Rxf3,Kb4,Rf4+,c4,h5,Rxa6,h4,Rd6,h3,Rd2,Rf1,Ra2,Kf5,a6,Rb1+,Kc5,Rb8', 'a7,Ra8,Kb6', 'https://lichess.org/training/2iJnX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2iJz6', 'Blitz', 'potatoBird', 1998, 'Sashaabc', 2091, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Nxc6,bxc6,Bd3,g6,h4,Bg7,h5,Ne7,h6,Bd4,Ne2,Qb6,Nxd4,Qxd4,Be3,Qxb2,Rb1,Qxa2,O-O,Qa5,Qf3,f5,exf5,Nxf5,Ra1,Qe5,Bf4,Qf6,Rfe1,O-O,Be5,Qf7,c4,d5,c5,a5,Qe2,Nxh6,Bb2,Nf5,Qe5,Ng7,Re3,Qxf2+,Kh1,Qh4+', 'Rh3,Qf6,Qxf6,Rxf6,Bxf6', 'https://lichess.org/training/2iJz6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2iJZv', 'Rapid', 'isuckatchess247', 2160, 'hasanali54', 2117, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bg6,Ne2,e6,O-O,Nd7,f4,f6,c3,Bxd3,Qxd3,f5,c4,Qb6,Nbc3,Ne7,a4,a5,Bd2,dxc4,Qxc4,Nd5,Nxd5,cxd5,Qc3,Bb4,Qd3,O-O,Rac1,Rac8,Bxb4,axb4,b3,Nb8,Qd2,Nc6,Kh1,Na5,Qb2,Rc6,Rxc6,bxc6,Rc1,Qa6,Qc2,Rc8,Qc5', 'Nxb3,Qxb4,Nxc1', 'https://lichess.org/training/2iJZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ILC7', 'Blitz', 'dimsim7777', 1898, 'enochl', 1909, 'd4,g6,e4,Bg7,Nf3,d6,Be3,Bg4,c3,Nf6,Bd3,O-O,h3,Bxf3,Qxf3,e5,Nd2,Nc6,d5,Ne7,O-O-O,Nd7,h4,f5,exf5,gxf5,Bg5,h6,Bxe7,Qxe7,Bxf5,Nc5,g4,a5,Ne4,Nd7,Be6+,Kh8,Qe3,a4,g5,h5,Rhf1,a3,b3,Rf4,Ng3,Qe8,Nf5,Nc5,Nxg7,Kxg7,g6,Nxe6,dxe6,Qxe6,Rg1,Raf8,Rd2,Qf6,Rg5,Rxf2,Rxh5,Rxd2', 'Qh6+,Kg8,Qh7#', 'https://lichess.org/training/2ILC7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2IN3q', 'Bullet', 'AlexeyFlatron', 1894, 'DonReti', 1895, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,O-O,Bg5,d6,Nc3,Be6,Nd5,Kh8,Bxf6,gxf6,c3,f5,b4,fxe4,dxe4,Bb6,a4,a5,b5,Ne7,Nxb6,cxb6,Qd3,Rc8,Bxe6,fxe6,Rad1,Rf6,Qxd6,Qf8,Qxe5,Kg8,Rd6,Rc5,Qd4,Rxf3,gxf3', 'Rg5+,Kh1,Qxf3#', 'https://lichess.org/training/2IN3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2IP2U', 'Blitz', 'Khorzou_Khan', 1606, 'Yayaw', 1612, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Bc4,a6,Nc3,b5,Be2,e6,Bf3,c6,Qe2,cxd5,Nxd5,Bc6,Nf4,Bxf3,Nxf3,Nbd7,Ng5,Be7,d3,O-O,O-O,Nd5,Nfxe6,fxe6,Nxe6,Qb6,Qg4,Rf7,Re1,N7f6,Qh4,Ne4,Qxe4', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/2IP2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2iplw', 'Rapid', 'johnrellayan057', 2176, 'taylormade', 2131, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,O-O,d5,Nc3,c4,d4,cxd3,Qxd3,a5,Rd1,Bc5,Bg5,f6,Bh4,Ne7,exd5,cxd5', 'Qb5+,Qd7,Qxc5', 'https://lichess.org/training/2iplw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2IQMS', 'Rapid', 'lzchips', 2254, 'Xilften1', 1903, 'e4,e6,Nf3,c5,b4,cxb4,d4,d5,e5,Nc6,a3,Qb6,axb4,Bxb4+,c3,Be7,Bd3,Bd7,O-O,Na5,Nbd2,Nh6,Ba3,Bxa3,Rxa3,O-O,Qa1,Nc6,h3,Rac8,Rb3,Qc7,Qb1,b6,Bxh7+,Kh8,Bd3,Na5,Ra3,b5,Qa1,Nc4,Bxc4,bxc4,Rxa7,Qc6,Rb1,Ra8,Rbb7', 'Qxb7,Rxb7,Rxa1+', 'https://lichess.org/training/2IQMS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Iqoo', 'Rapid', 'shmsn', 1941, 'Martian_Champ', 1943, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Nf3,e6,Bg5,Be7,e3,O-O,Bd3,a6,a3,b5,Bc2,Nc6,Qd3,g6,Bh6,Re8,h3,b4,axb4,Nxb4,Qd1,Nxc2+,Qxc2,Bd7,Ne5,Rc8,O-O,Bb5,Rfc1,Ne4,Qb3,Nd2,Qd1,Nc4,Nxc4,Bxc4,b3,Bb5,Nxb5,axb5,Qe2,Qb6,b4,Rxc1+,Rxc1,Bxb4,Rb1,Be7,Rxb5,Qd6,Qb2,Bf6,Bf4,Qc6,Rb6,Qc4,Rb4,Qc6,Rb5,Rc8,Rc5', 'Qxc5,dxc5,Bxb2', 'https://lichess.org/training/2Iqoo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2IsgM', 'Blitz', 'loliv08', 2027, 'PanOpick', 2045, 'e4,c5,Nc3,a6,g3,Nc6,Bg2,g6,d3,Bg7,Be3,d6,Qd2,e6,Nge2,h5,O-O-O,Nge7,d4,cxd4,Nxd4,d5,exd5,Nxd5,Nxd5,exd5,Rhe1,O-O,Nxc6,bxc6,Bd4,Bf5,Bxg7,Kxg7,h3,Qf6,g4,hxg4,hxg4,Bxg4,Rh1,Bxd1', 'Qh6+,Kg8,Qh7#', 'https://lichess.org/training/2IsgM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2IT3d', 'Rapid', 'Ottimot', 1818, 'stevan1000', 1730, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Be2,h6,O-O,d5,exd5,Nxd5,d3,Nxc3,bxc3,Bd6,Be3,O-O,Qd2,f5,Qd1,f4,Bd2,Ne7,c4,Nf5,Bc3,c5,Nxe5,Bxe5,Bxe5,Re8,Bxf4,Nd4,Be3,Nxe2+,Qxe2,Qf6,Qd2,b6,Rab1,Bb7,Bxc5,Bxg2,Kxg2,Qc6+,Kg1,Qxc5,Rb5,Qd4,Re1,Qg4+,Kh1,Rf8,Qe3,Rae8,Qxe8', 'Qf3+,Kg1,Qxf2+', 'https://lichess.org/training/2IT3d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2IUOS', 'Bullet', 'esam-nashat2019', 2259, 'frantmat', 2249, 'd4,Nf6,c4,e6,a3,c5,dxc5,Bxc5,Nf3,O-O,e3,Nc6,Be2,d5,cxd5,exd5,O-O,d4,exd4,Nxd4,Nxd4,Bxd4,Bf3,Qb6,Nc3,Rd8,Qc2,Bd7,Bg5,Rac8,Rfd1,h6,Bh4,Be6,Rd2,g5,Bg3,g4,Bd1,Bxc3,Rxd8+,Rxd8,bxc3,Qc5,Be2,Bf5,Qb2,Ne4,c4,Nxg3,hxg3,b6,Rc1,Qd4,Qxd4,Rxd4,c5,bxc5,Rxc5,Be6,Ra5,Rd2,Bb5,Rd1+,Kh2,Rd2,Rxa7,Rxf2,Bc6,Rc2,Ba8,Kg7,a4,Ra2,a5,Ra3,Be4,Bc4,Bb7,Ra2,a6,Bb5,Ra8,h5,a7,Ra3,Bd5,h4,gxh4', 'g3+,Kh3,Bd7+,Be6,Bxe6#', 'https://lichess.org/training/2IUOS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ixW3', 'Classical', 'dercanfame', 1729, 'Andysilly', 1732, 'e4,Nc6,Nc3,e6,d4,b6,Nf3,Bb7,Qe2,Be7,g3,d5,Bg2,Qd7,exd5,exd5,O-O,O-O-O,Re1,Kb8,Bg5,f6,Bd2,Nh6,Nb5,Rhe8,Qd3,Ng4,a4,a5,Qxh7,Rh8,Qxg7,Rdg8,Qf7,Bc8,Bf4,Bd6,Qxd7,Bxd7,Nxd6,cxd6,Bxd6+,Kb7,Re7,Rd8,h4,Nb4,c4,Nd3,c5,bxc5,dxc5,Kc6,Nd4+,Kb7,Ne6,Ka6,Nxd8,Rxd8,Bxd5,Ndxf2,Bc4+,Kb7,Bb5,Kc8,c6,Bxc6,Rc7+,Kb8,Rxc6+,Kb7,Rc7+,Kb6,Rd7,Rc8,Rf1,Rc2,Rd8', 'Nh3+,Kh1,Rh2#', 'https://lichess.org/training/2ixW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2izhO', 'Blitz', 'lolo5531', 2162, 'amateur81', 2002, 'c4,c5,Nc3,Nf6,b3,e6,Nf3,Be7,Qc2,Nc6,g3,O-O,d3,d5,Bf4,d4,Nb5,a6,Nc7,Ra7,g4,Nxg4,h3,Nf6,Rg1,Kh8,b4,Bd6,Bxd6,Qxd6,b5,Qxc7,bxc6,Qxc6,Qd2,Rg8,Ne5,Qc7,Qg5,Ne8,Bg2,f6', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/2izhO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2j0EB', 'Classical', 'LordOfCoconut', 1673, 'Hartwig_Heine', 1849, 'd4,c5,c4,cxd4,Nf3,Nc6,Nxd4,e5,Nf5,d6,Ng3,Nf6,Bg5,Be7,Nc3,O-O,e4,h6,Be3,Ng4,Nd5,Nxe3,Nxe3,Nd4,a3,Bg5,Nd5,Be6,Bd3,f5,O-O,f4,Ne2,f3,Nxd4,fxg2,Re1,exd4,Qh5,Bxd5,exd5,Qf6,Re2,Rae8,Rae1,Rxe2,Rxe2,Be3,Kxg2,Bxf2,Qg6,Qg5+', 'Qxg5,hxg5,Rxf2', 'https://lichess.org/training/2j0EB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2j2N0', 'Blitz', 'FreezingHot', 1710, 'gsaleon', 1734, 'c4,e5,g3,Nf6,Bg2,Bc5,e3,Nc6,Nc3,O-O,Nf3,d6,O-O,Be6,d4,exd4,exd4,Bxc4,dxc5,Bxf1,Kxf1,dxc5,Be3,b6,Qa4,Qd3+,Kg1,Qd6,Ng5,Ne5,Bxa8,Rxa8,Rd1,Qe7,Nce4,h6,Nxf6+,Qxf6,Qe4,Re8,Qh7+,Kf8,Ne4,Nf3+,Kg2,Qe5,Bxh6,Qxe4,Qxg7+,Ke7,Bg5+,Nxg5+,Kg1,Qg6,Qe5+,Kf8,Qh8+,Qg8,Qh6+,Qg7,Qc6,Ne6,Re1,Qf6,f4,Qd4+,Kf1,Qd6,Qf3,Nd4,Qd1,Rxe1+,Qxe1,Nf3,Qf2,Qd3+,Qe2,Qxe2+,Kxe2,Nd4+,Ke3,f5,b3,c6,h3,Kg7,b4,Ne6,g4,fxg4,hxg4,cxb4,Ke4,Nc5+,Kf5,b3,axb3,Nxb3,Ke6,c5,f5,c4,Ke7,Nd4', 'f6+,Kg6,f7,Nc6+,Ke8,Ne5,f8=Q', 'https://lichess.org/training/2j2N0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2jAQM', 'Blitz', 'onaxxx', 1879, 'BenzerZermin', 1893, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Bg5,c5,d5,a6,Qd2,Nbd7,Bh6,Nb6,Bxg7,Kxg7,h4,Bd7,Be2,Nc8,Ng5,Rb8,h5,b5,hxg6,fxg6,Ne6+,Bxe6,dxe6,bxc4,Qh6+,Kg8,Bxc4,Rxb2,Nd5,Qa5+,Kf1,Qd2', 'Nxf6+,Rxf6,Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/2jAQM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Jgqb', 'Blitz', 'Myandash', 2187, 'ct-chess', 2195, 'e4,c6,Nc3,d5,Nf3,Bg4,h3,Bh5,g4,Bg6,exd5,cxd5,Ne5,Nf6,Bb5+,Nfd7,Nxd5', 'Be4,Nxd7,Nxd7,O-O,Bxd5', 'https://lichess.org/training/2Jgqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2jLnm', 'Rapid', 'Wingwood', 2022, 'FischyVishy', 2178, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Bc4,Nc6,Nf3,a6,O-O,b5,Bb3,Na5,Bc2,Bb7,Qe2,Rc8,Bg5,Be7,Bxe7,Qxe7,Rfe1,Nc4,Bd3,Nf6,e5,Nd5,Ne4,Nf4,Qf1,Nxd3,Qxd3,Bxe4,Qxe4,d5,exd6,Nxd6,Qg4,O-O,Rad1,Rc2,h4,Nf5,Ne5,Qa7,Rf1,Qc7,Qe4,Rc5,Rfe1,Rd8,Rxd8+,Qxd8,Qb7,Qc7,Qxa6,h6,Nf3,b4,Qa8+,Kh7,Qe4,Rc4,Qe5,Qe7', 'Qxf5+,exf5,Rxe7', 'https://lichess.org/training/2jLnm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2jMLJ', 'Classical', 'PatoZambranoF', 1670, 'Hectly', 1675, 'e4,e5,Nf3,Nf6,Bc4,Bc5,d3,Nc6,c3,O-O,Nbd2,d6,Bb3,Bg4,h3,Bh5,Nf1,d5,exd5,Nxd5,Ng3,Bg6,O-O,Nf4,Bxf4,exf4,Ne2,Bxd3,Re1,Bxe2,Rxe2,Re8,Rxe8+,Qxe8,Ng5,Ne5,Qh5,h6,Re1,hxg5,Rxe5,Qxe5', 'Qxf7+,Kh8,Qh5#', 'https://lichess.org/training/2jMLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2JnEm', 'Rapid', 'umut28', 1813, 'Opetha', 1794, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bf4,Be7,Bd3,O-O,O-O,h6,h3,Nbd7,c4,c5,Nc3,dxc4,Bxc4,cxd4,Nxd4,Re8,Qd2,Qb6,Rfe1,Nc5,Re3,Bd7,Rg3,Nh5,Rxg7+,Nxg7,Bxh6,Bf6,Ndb5,Bxb5,Nxb5,a6,Nd6,Red8,Bxf7+,Kh7,Qc2+,Kh8,Bxg7+,Bxg7,Nf5,Qf6,Nxg7,Qxg7,Bh5,Rac8,Rc1,b6,Qf5,Rf8,Qg4,Qxg4,Bxg4,Rc6,Bf3,Rcf6,b4,Nd3,Rb1,Rg8,Kf1,Rf4,b5,axb5,Rxb5,Re8,Rb1,b5,Bc6,Rb4,Rd1,Rd8,Ke2,Rb2+,Ke3,Rc2,Rxd3', 'Rxd3+,Kxd3,Rxc6', 'https://lichess.org/training/2JnEm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2jngn', 'Rapid', 'AmoryBlaine', 1634, 'OFUSs', 1789, 'd4,e6,e4,c5,d5,exd5,exd5,a6,Nf3,b5,c4,bxc4,Bxc4,d6,O-O,Bb7,Re1+,Be7,Bg5,f6,Bf4,g5,Qa4+,Qd7,Qxd7+,Nxd7,Bxd6,Nb6,Bxc5,Nxc4,d6,Bxf3,gxf3,Nxd6,Bxd6,Kd7,Bxe7,Nxe7,Nc3,Rab8,Rad1+,Ke8,Nd5,Rb7,Nxf6+,Kf7,Ng4,Rxb2,Rd7,Re8,Nh6+,Kf6,Rd6+,Kg7,Rxa6,Rbb8,a4,Ng6,Nf5+,Kh8,Rxe8+,Rxe8,a5', 'Re1+,Kg2,Nf4+,Kg3,Rg1#', 'https://lichess.org/training/2jngn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Joks', 'Rapid', 'AGIM', 2171, 'WIM zinebdinaabdi', 2132, 'd4,d5,e4,dxe4,Nc3,c5,d5,Nf6,Bg5,Bf5,Bxf6,exf6,Qe2,Be7,Qb5+,Qd7,O-O-O,O-O,d6,Bxd6', 'Qxd7,Nxd7,Rxd6', 'https://lichess.org/training/2Joks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2JPlO', 'Blitz', 'fikus03', 1755, 'safetyfirst05', 1761, 'd4,d5,Bf4,c5,c3,Nc6,Nf3,Nf6,e3,Bg4,Be2,e6,h3,Bh5,O-O,Bd6,Ne5,Bxe2,Qxe2,Bxe5,dxe5,Ne4,f3,g5,fxe4,gxf4,exd5,Qxd5,exf4,O-O-O,Na3,Rhg8,Kh2,Rg6,b3,Rdg8,Rf2,Qd8,Nc4,Qh4,Rg1,Qg3+,Kh1,Rh6,Rf3', 'Rxh3+,gxh3,Qxg1#', 'https://lichess.org/training/2JPlO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2jr81', 'Rapid', 'acdcfgt', 1826, 'undark', 1868, 'e4,c5,f4,d5,e5,Nc6,h3,f6,Nf3,a6,d4,e6,c3,Qc7,Be3,Qb6,Qc2,Be7,Nbd2,Qc7,Bd3,c4,Bxh7,Nh6,Bg6+,Kd8,g4,f5,g5,Ng8,Bf7,b5,Bxg8,Rxg8,h4,Bf8,h5,g6,h6,Rh8,Nh4,Qh7,Nf1,Bd7,a4,Ra7,axb5,axb5,Rxa7,Nxa7,b4,Be8,Qa2,Qc7,Nxg6,Bxg6,Qa5,Qxa5,bxa5,Kc7,Nd2,Nc6,Kf2,Nxa5,Ra1,Kb6,Nb1,Rh7,Bc1,Ra7,Nd2,Nc6,Rxa7,Kxa7,Nf3,Ne7,Ba3,b4,Bxb4,Kb6,Nh4,Bh7,Bxe7,Bxe7,Kg3,Bf8,g6,Bxg6,Nxg6,Bxh6,Nh4,Ka5,Nxf5', 'exf5,e6,Bf8', 'https://lichess.org/training/2jr81');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2jSjy', 'Rapid', 'voguha', 1649, 'w3z2fv4o6ipbnak8u7', 1682, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Bc4,Nf6,Nc3,Bb4,Bg5,Bxc3+,bxc3,h6,Bxf6,Qxf6,Qd4,Qg5,O-O,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Kxd7,Rab1,Rhc8,Rb7+,Ke8,Qa4+,Kf8,Rxa7,Rxa7,Qxa7,Rxc3', 'Qb8+,Ke7,Qb4+,Ke8,Qxc3', 'https://lichess.org/training/2jSjy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2jwkw', 'Rapid', 'AlexR77', 1624, 'CreamHand', 1616, 'e4,e6,Nf3,c5,Nc3,Nc6,Bc4,a6,a4,Nge7,d3,Ng6,O-O,Nd4,Re1,b6,e5,d6,Bg5,Qc7,exd6,Bxd6,Ne4,O-O,Nxd6,Qxd6,Nxd4,Qxd4,c3,Qd6,Re4,Bb7,Rg4,b5,axb5,axb5,Rxa8,Rxa8,Bxb5,Qd5,Bc4,Qf5,h3,h5,Rg3,Ne5,Qxh5,Nxc4,dxc4,Ra1+,Kh2,Qxf2,Be3,Qf1,Rxg7+,Kxg7,Bh6+,Kh7,Bf4+,Kg8,Qg5+,Kf8', 'Bd6+,Ke8,Qe7#', 'https://lichess.org/training/2jwkw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2JyNz', 'Rapid', 'Chessmoskito', 1914, 'OneLossADay', 1660, 'f4,d5,Nf3,Nc6,e3,Bg4,Bb5,a6,Bxc6+,bxc6,O-O,Nf6,d3,e6,Nbd2,Bc5,Qe1,O-O,Ne5,Qd6,Qh4,Bxe3+,Kh1,Bf5,Ndf3,Bxc1,Raxc1,Qb4,b3,Qd6,g4,Bxg4,Nxg4,Nxg4,Qxg4,f5,Qg3,Rf6,Ne5,d4,Rf2,Qa3,Rg1,Qf8,Nxc6,Rg6,Qf3,Rxg1+,Kxg1,Re8,Rg2,Qd6,Qg3,g6,Ne5,Qe7,h4,Rf8,h5,Rf6,hxg6,hxg6,Qg5,Qa3,Nxg6,Qc1+,Kh2,Kf7,Ne5+,Ke7,Qg7+,Kd6,Qd7+,Kc5,Qxc7+,Kb4,a3+,Kxa3,Nc4+,Ka2,Qa5+,Kb1,Na3+,Kb2,c4+,Ka1,Nc2+,Kb2,Nxd4+,Kb1,Ne2', 'Rh6+,Kg3,Qe3#', 'https://lichess.org/training/2JyNz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2JzJW', 'Classical', 'Gjyzari94', 1879, 'MaqhaweSI', 1870, 'd4,d5,c4,e6,Nc3,f5,Nf3,c6,Ne5,Bd6,f4,Nf6,e3,O-O,Be2,Ne4,cxd5,Qh4+,g3,Nxg3,hxg3,Qxh1+,Kd2,Qxd1+,Bxd1,exd5,Bf3,Bxe5,dxe5,Be6,Ne2,a5,b3,Nd7,Bb2,b5,Nd4,Rfe8,Nxc6,Nc5,Nd4,Ne4+,Bxe4,dxe4,Rc1,b4,Rc7,a4,Rb7,axb3,axb3,Rab8', 'Rxb8,Rxb8,Nxe6', 'https://lichess.org/training/2JzJW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2JzKc', 'Rapid', 'm0rtt', 2063, 'acamus_7', 1905, 'e4,c5,Nc3,d6,g3,Nc6,Bg2,e5,d3,f5,Nge2,Be7,Nd5,Nf6,Nxf6+,Bxf6,Nc3,Nd4,Nd5,O-O,O-O,Be6,exf5,Bxf5,Nxf6+,Qxf6,Bxb7,Bh3,Bg2,Bxg2,Kxg2,Nf3,Qe2,d5,Be3,Qf5,Bxc5,Qh5,h3', 'Nh4+,gxh4,Qxe2', 'https://lichess.org/training/2JzKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2k02U', 'Rapid', 'InertiaZA', 1604, 'okrunner54', 1693, 'e4,e6,f4,d5,exd5,exd5,Nf3,Nf6,Bb5+,c6,Ba4,b5,Bb3,a5,a4,Be7,axb5,cxb5,O-O,a4,Nc3,Ba6,Ba2,b4,Nxa4,Bxf1,Qxf1,O-O,b3,Nc6,Bb2,d4,c3,d3,Bb1,bxc3,Bxc3,Bb4,Bxd3,Bxc3,dxc3,Re8,Bb5,Re6,f5,Rd6,Qc4,Qb6+', 'Nxb6,Rxa1+,Kf2', 'https://lichess.org/training/2k02U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2K308', 'Rapid', 'sekula', 2134, 'Magican06', 2337, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,a3,a6,Be2,Qc7,Nc3,Nf6,Bf3,Be7,O-O,O-O,Bg5,d6,Bh4,Ne5,Be2,b5,Kh1,Bb7,f3,Nxe4,fxe4,Bxh4,Nf3,Nxf3,Rxf3,Bf6,Qd3,Bxc3,bxc3,d5,exd5,Bxd5,Rh3,g6,Qe3,f5,Qg5,f4,Rf1,Rf5,Qh6,Raf8,Bd3,f3,gxf3,Rxf3,Rhxf3,Bxf3+,Kg1,Qc5+,Rf2,Be4', 'Qxf8+,Qxf8,Rxf8+,Kxf8,Bxe4', 'https://lichess.org/training/2K308');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2K9nD', 'Rapid', 'STSN', 1924, 'LockaKlappstuhl', 1900, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,e6,h5,Bh7,Bd3,Nf6,Ne5,Qxd4,Nxf7,Bxd3,Nxh8,Qe5+,Be3,Bc4,Ng6,Qxb2,Bd4', 'Bb4+,c3,Bxc3+,Bxc3,Qxc3+,Qd2,Qxa1+', 'https://lichess.org/training/2K9nD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2kaNE', 'Rapid', 'rio_irnawan', 1874, 'Red_Beast', 1880, 'e4,e5,f4,d6,Nf3,h6,Bc4,Be6,Bxe6,fxe6,fxe5,dxe5,O-O,Bc5+,Kh1,Nc6,Nxe5,Nge7,Qh5+,g6,Nxg6,Nxg6,Qxg6+,Kd7,Rf7+,Be7,d3', 'Ne5,Rxe7+,Qxe7', 'https://lichess.org/training/2kaNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2KEEM', 'Classical', 'tonyast', 1684, 'MaxBalrog', 1638, 'g3,e5,Bg2,Nf6,b3,e4,Bb2,d5,Nc3,Nc6,d3,Bf5,Nh3,Bb4,a3,Bxc3+,Bxc3,O-O,O-O,Re8,Nf4,d4,Bb2,Qd6,dxe4,Bxe4,f3,Bf5,b4,Ne5,Bxd4,Ng6,c3,Nxf4,gxf4,Qxf4,Bxf6,gxf6,e4,Qe3+,Kh1,Qxc3,exf5,Re5,Qb1,Rd8,f4,Re2,Qc1,Qd2,Qxd2,Rdxd2,Rg1,Kf8,Rae1,Rf2,Ref1,Rfe2,Re1,Rf2,Ref1,Rfe2,h4,h5,Rd1', 'Rxg2,Rxg2,Rxd1+', 'https://lichess.org/training/2KEEM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Kgvm', 'Classical', 'Azizzov', 2004, 'AhMedElfki', 2040, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Nc6,Be3,Be7,Qd2,Bg4,Nd4,Qd7,Bb5,a6,Nxc6,bxc6,Ba4,O-O,O-O,a5,Bd4,Rab8,Rab1,Be6,Bb3,d5,Ba4,Qd6,Rfe1,Bd7,Be5,Qc5,Bxc7,Rb7,Be5,Bd6,Qd4,f6,Bxd6,Qxd6,c4', 'c5,Qd2,Bxa4', 'https://lichess.org/training/2Kgvm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2kgvz', 'Rapid', 'fishstone', 1949, 'siltru28', 1804, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,h6,c3,Nf6,Re1,Be7,d4,Bg4,Qd3,Bxf3,gxf3,Qd7,Kh1,a6,Rg1,g6,Bb3,O-O-O,Bd1,Kb8,b4,exd4,cxd4,Nxb4,Qc4,d5,exd5,Nfxd5,Be3,Nxe3,fxe3,Rhf8,Nd2,Nd5,Qd3,Qe6,e4,Nf4,Qc3,Nh3,Rg2,Nf4,Rg4,g5,d5,Qb6,Rb1,Qf2,Rc1,Bd6,e5,Bxe5,Qxe5,Rc8,Ne4,Qe1+,Rg1,Qa5,Nf6,Nh3,Rf1,Rfd8,Bb3,Nf4,Qe7,Qb5,Bc4,Qa4,Ne4,Nxd5,Bxd5,Rxd5,Qxf7,Qxa2,Ra1,Qb3,Rfb1', 'Rd1+,Rxd1,Qxf7', 'https://lichess.org/training/2kgvz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2kJCF', 'Rapid', 'pliffo', 1801, 'capricornwon', 1707, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,Bg5,Be7,c3,Nxe4,Bxe7,Nxe7,cxd4,d5,Qe2,Bf5,Nh4,Be6,Bd3,Qd6,O-O,O-O-O,Na3,g5,Nb5,Qb6,Nf3,h5,b4,h4,Rfc1,Nc6,Rxc6,bxc6,Na3,g4,Ne5,Qxd4', 'Ba6+,Kb8,Nxc6+', 'https://lichess.org/training/2kJCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2kJRc', 'Rapid', 'Tabija64', 1927, 'ygchamp', 1946, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bb4+,Nbd2,Qe7,a3,Ngxe5,Nxe5,Nxe5,Qc2,Bxd2+,Bxd2,d6,e4,O-O,Be2,f5,O-O,fxe4,Kh1,Bf5,Qb3,Qh4,c5+,Kh8,cxd6,Bg4,Bxg4,Nxg4,Qg3,Nxf2+', 'Rxf2,Qxg3,Rxf8+,Rxf8,hxg3', 'https://lichess.org/training/2kJRc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Knvp', 'Rapid', 'sur64', 1903, 'zviv', 1726, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,O-O,Qf6,d4,exd4,e5,Nxe5,Nxe5,Ne7,cxd4,Bd6,Bxf7+,Kd8,Bb3,Bxe5,dxe5,Qxe5,Re1,Qxa1,Bg5,Re8,Bf7,h6,Bxe8,hxg5,Bf7,d6,Qe2,Qe5', 'Qxe5,dxe5,Rd1+', 'https://lichess.org/training/2Knvp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2kPMp', 'Rapid', 'trent_conley', 1815, 'vahapoglu', 1827, 'd4,g6,e4,Bg7,e5,d6,Nf3,dxe5,dxe5,Bg4,Qxd8+,Kxd8,Be2,c6,Bf4,Nd7,Nc3,Bxf3,Bxf3,Bxe5,Bxe5,Nxe5,O-O-O+,Kc7,Rhe1,Nxf3,gxf3,e6,Ne4,Ne7,Nd6,Rhf8,b4,Rad8,Ne4,Rxd1+,Rxd1,Nf5,Nf6,h5,Rd7+,Kb6,c4,a6,c5+,Ka7,Kb2,Nh4,f4,Nf3,Kc3,Nxh2,Ne4,h4,Nd6,h3,Nxb7,Kb8,Na5,Nf3,Nxc6+,Kc8,Ra7,h2,Ne7+,Kb8,Nc6+,Kc8,Ne7+,Kd8,Nc6+,Ke8', 'Re7#', 'https://lichess.org/training/2kPMp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2kpZx', 'Blitz', 'MyBoyNeedYourMouth', 1797, 'Richie2', 1845, 'd4,b6,Bf4,Bb7,e3,Nc6,Nf3,g6,Nbd2,Bg7,c3,Nf6,Be2,O-O,h3,d6,O-O,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Qd5,Bf3,Qxe5,Bxb7,Rab8,Bf3,Rfd8,Qc2,Rd6,Ne4,Nxe4,Qxe4,Qxe4,Bxe4,Rbd8,a4,Rd2,Rab1,Re2,Bf3,Rc2,Be4,Rcd2,b4,Bxc3,Rbc1,Bxb4,Rxc7,a5,Rfc1', 'Rd1+,Kh2,Bd6+,f4,Bxc7', 'https://lichess.org/training/2kpZx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2kqHe', 'Rapid', 'jeanma88', 1852, 'dmieter', 2001, 'Nf3,c5,c4,d6,e3,g6,Nc3,Bg7,d4,cxd4,exd4,a6,Be2,Nf6,O-O,Qb6,Na4,Qc7,Rb1,Bf5,Bd3,Bg4,b3,O-O,Be2,Nc6,Be3,Ne4,Rc1,Rac8,Nc3,Nf6,h3,Bf5,d5,Nb8,Nd4,Bd7,Bf4,h6,Nf3,Nh5,Be3,Qa5,Nd4,b5,cxb5,axb5,Ndxb5,Bxb5,Bxb5,Rxc3,Rxc3,Bxc3,Qe2,Nf6,Bxh6,Rc8,Bc4,Rc7,Rc1,Bd4,Rd1,Be5,f4,Bc3,Rd3,Kh7,Bg5,Kg7,Bh4,Nbd7,Qxe7,Nc5,Qe3,Nxd3,Qxd3,Bb4,Qd4,Bc3', 'Bxf6+,Kg8,Qxc3,Qxc3,Bxc3', 'https://lichess.org/training/2kqHe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2KqJG', 'Classical', 'Fandhor', 1725, 'Capelle1800', 1785, 'e4,d5,exd5,Nf6,Nf3,Nxd5,c4,Nf6,d4,e6,Nc3,Be7,Bd2,O-O,Bd3,c5,Be3,cxd4,Bxd4,Nc6,O-O,h6,b3,Kh8,Bc2,a6,h3,Qc7,Be3,Bd7,Qc1,Nb4,a3,Nxc2,Qxc2,Bc6,Nd4,Bd7,a4,Rac8,Rad1,Bb4,Ne4,Nxe4,Qxe4,e5,Nf3,f6,Rd3,Bc6,Qh4,e4,Bxh6,exd3', 'Bf4+,Kg8,Bxc7', 'https://lichess.org/training/2KqJG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2KSQq', 'Rapid', 'daamien', 1825, 'pawnimpact0007', 1750, 'e4,d5,exd5,c6,dxc6,e5,cxb7,Bxb7,Nc3,Bc5,d3,Nf6,Bg5,O-O,Bxf6,Qxf6,f3,Bxg1,Rxg1,Qb6,b3,Qxg1,Qe2,f5,Qxe5,Nd7,Qe6+,Kh8,Qxd7,Rae8+,Ne2,Bc8,Qxc8', 'Rxe2+,Kxe2,Rxc8', 'https://lichess.org/training/2KSQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2KU01', 'Rapid', 'white_slonik', 2022, 'PacMan1', 1812, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,Be7,Nge2,O-O,O-O,a6,h3,b5,Bb3,Bb7,f4,Nd4,fxe5,Nxe2+,Qxe2,Ne8,Qg4,g6,Bh6,Ng7,Rf3,d5,Nxd5,Bxd5,Bxd5,Rb8,Raf1,Qe8,Rxf7,Rxf7,Bxf7+,Qxf7,Rxf7,Kxf7,Bxg7,Kxg7,Qd7,Kf8,Qxc7,Re8,c3,Bg5,d4,Be3+,Kh1,Re7,Qd8+,Kf7,Qh8,h6,Qf6+,Ke8,Qxg6+,Kd7,Qf5+,Ke8,d5,Rf7,Qg6,Kf8,e6,Rf1+,Kh2,Bf4+,g3,Rf2+,Kg1,Be3,Kh1,Rf1+,Kg2,Rf2+,Kg1', 'Rf6+,Kg2,Rxg6', 'https://lichess.org/training/2KU01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Kuog', 'Bullet', 'higher_power', 1616, 'ViktorGritsuk', 1595, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,d3,Bf5,Be2,e6,Nf3,Bb4+,Bd2,O-O,a3,Bxd2+,Qxd2,Nd4,Nxd4,Qxd4,O-O,Rfd8,Rd1,Rd7,Nc3,a6,Qe3,Rad8,Qxd4,Rxd4,Kf1,Bxd3,Bxd3,Rxd3,Rxd3,Rxd3,Rd1,Rxd1+,Nxd1,Kf8,Ke2,Ke7,f3,Kd6,Kd3,Kc5,b4+,Kd6,Nc3,h5,c5+,Ke5,Kc4,h4,a4,g5,b5,axb5+,axb5,Nd5,Nxd5,exd5+,Kd3,f5,h3,f4,c6', 'bxc6,b6,Kd6,b7,Kc7,b8=Q+,Kxb8', 'https://lichess.org/training/2Kuog');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2KvGb', 'Rapid', 'Invictus2019', 1855, 'nurfaizin', 1788, 'd4,Nf6,c4,d6,Nf3,g6,g3,Bg7,Bg2,Bg4,O-O,O-O,Re1,c6,Nbd2,Qd7,e4,Bh3,Bh1,Ng4,Ng5,Nh6,Nxh3,Qxh3,Bg2,Qd7,Nf3,Na6,e5,dxe5,dxe5,Qe6,Qc2,Rad8,a3,Nf5,Bf4,Nc5,Ng5,Qc8,Rad1,Nd4,Qc3,Ncb3,Bh3,e6,Ne4,c5,Nd6,Qc6,Bg2,Qa4,Nxb7', 'Ne2+,Rxe2,Rxd1+', 'https://lichess.org/training/2KvGb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2kX6l', 'Blitz', 'CM Makswolf200818', 2515, 'LavioGM', 2359, 'Nf3,c5,c4,Nf6,Nc3,e6,d4,d5,cxd5,Nxd5,e4,Nxc3,bxc3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Be2,b6,d5,exd5,exd5,Bb7,Rd1,Nd7,O-O,Rc8,Bd3,Rc5,Ng5,Rxd5,Nxh7,Ne5,Nxf8,Nf3+,gxf3', 'Rg5+,Qxg5,Qxg5+,Kh1,Bxf3#', 'https://lichess.org/training/2kX6l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2KX8F', 'Blitz', 'ruymoultor', 1823, 'tomamitic', 1738, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,Re1,Be7,c3,O-O,d4,exd4,cxd4,Bg4,Bxc6,bxc6,h3,Bh5,Qd3,Qd7,Nc3,Ne8,e5,Bxf3,Qxf3,g6,Bh6,Ng7,Ne4,Qe6,Nf6+,Kh8,Re4,dxe5,dxe5,Rad8,Rh4,Bxf6,exf6,Nf5,Re4,Nd4,Qd3,Qxf6,Bxf8,Ne6,Qe2,Rxf8,Rd1,c5,Rd7,Nd4,Qc4,Qg5,Rxf7,Rd8,Ref4,Nf5,Qe6,Rd1+,Kh2', 'Qxf4+,g3,Qxf2#', 'https://lichess.org/training/2KX8F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Kz1O', 'Rapid', 'Beeboktech', 1828, 'Garghi555', 1918, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Bc4,O-O,O-O,Nc6,Nxc6,bxc6,e5,Nd5,Bxe7,Qxe7,Nxd5,cxd5,exd6,Qxd6,Bd3,Bb7,c4,dxc4', 'Bxh7+,Kxh7,Qxd6', 'https://lichess.org/training/2Kz1O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2L1hI', 'Blitz', 'neropol', 2000, 'LMFG', 1945, 'd4,d5,Bg5,Nf6,Bxf6,exf6,e3,Nc6,Bd3,g6,c3,Bg7,Nd2,h5,h3,f5,Ne2,Be6,Qc2,Qe7,O-O-O,a6,f3,b5,a3,O-O,e4,fxe4,fxe4,dxe4,Bxe4,Na5,Bxa8,Rxa8,Qe4,Qd8,Nf4,Nb3+,Nxb3,Bxb3,Rde1,a5,Qe7,Qc8,g4,h4,Rhf1,b4,cxb4,axb4,Qxb4,Rb8,Qc3,c5,Kb1,Qb7,Rf2,Bxd4,Qd3,Qb6,Rfe2,Qa5,Nxg6,Bc4,Ne7+,Kf8,Qxc4,Qxa3,Nc6', 'Rxb2+,Rxb2,Qxb2#', 'https://lichess.org/training/2L1hI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2l1VG', 'Blitz', 'BKaz', 1786, 'Cholo1986', 1771, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Nxd4,Ne5,Bb3,Nf6,Nc3,g6,Bg5,Bg7,Nd5,Ned7,O-O,O-O,Qe2,c6,Nxf6+,Nxf6,Rad1,h6,Bh4,Qb6,c3,Bg4,f3,Bd7,Bf2,Qc7,Rfe1,Rfe8,Qc4,d5,exd5,Nxd5,Qc5,Bf8,Qc4,b5,Nxb5,cxb5,Qxd5,Be6,Qd2,Bxb3,axb3,Rxe1+,Rxe1,Rd8,Qc2,a6,Bg3,Qd7,Re2,Bc5+,Bf2', 'Qd1+,Qxd1,Rxd1+,Re1,Rxe1#', 'https://lichess.org/training/2l1VG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2L207', 'Blitz', 'ATHALA', 2091, 'ormenider2', 2069, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,dxc5,Bxc5,Be2,Nf6,Bg5,Qb6,O-O,Ne4,Qe1,Nxf2', 'Bb5+,Kf8,Qe8#', 'https://lichess.org/training/2L207');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2l5xq', 'Rapid', 'Metind8', 1803, 'avinash61888', 1809, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,h6,Nxe5,O-O,d3,d6,Nf3,Nc6,h3,Na5,Bd5,c6,Bb3,Nxb3,axb3,a6,d4,Bb4,Qe2,Nxe4,Nd2,Nxd2,Qxd2,Re8+,Kf1,d5,Qd1,Bf5,Bd2,Qf6,Be3,Rxe3,fxe3,Bxc2+,Qf3,Qg6,Kf2,Bxb3,Ne2,Qc2,Rab1,Re8,Kg3,Re6,Rhc1,Qg6+,Kf2,Bd2,Nf4,Bxe3+', 'Qxe3,Rxe3,Nxg6', 'https://lichess.org/training/2l5xq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2l7lL', 'Blitz', 'sameerawije', 1642, 'FM Ginzburg_Yakov', 2320, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nf6,e5,Nd5,Bd3,d6,Nf3,dxe5,dxe5,Nb4,Qa4+,Bd7,Qb3,Nxd3+,Qxd3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O,Nc6,Qc2,h6,Nb3,Rc8,Rad1,Qe7,Nc5,Nxe5,Nxe5,Rxc5', 'Rxd7,Rxc2,Rxe7', 'https://lichess.org/training/2l7lL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2LfMj', 'Blitz', 'FearCastor', 2532, 'GM TexasMustang', 2655, 'd4,f5,Nc3,Nf6,Bg5,g6,Nf3,Bg7,Qd2,d6,Bh6,Bxh6,Qxh6,e6,h3,Qe7,e3,Nc6,O-O-O,Bd7,a3,O-O-O,Bd3,e5,d5,Nb8,e4,fxe4,Bxe4,Nxe4,Nxe4,Bf5,Ng3,Nd7,Qg5,Qxg5+,Nxg5,Rdf8,f3,Nc5,Rde1,a5,b4,axb4,axb4,Na4,Ne2,Nb6,Nc3,h6,Nge4,Bxe4,Rxe4,Kd7,Kb2,Ra8,Ra1,Rxa1,Kxa1,Rf8,Kb2,g5,Kb3,Rf4,Ne2,Rf8,c4,Ke7,Nc3,Nd7,Na4,Nf6,Re2,Ra8,Nc3,Nh5,c5,Nf4,Rd2,h5,Ne4,Rg8,Kc4,g4,hxg4,hxg4,g3,Nh3,Rh2,Rg7,Kd3,Ng1,fxg4,Nf3,Rh6,Ne1+,Ke2,Nc2,cxd6+,cxd6,Re6+,Kd7,Nf6+,Kc8,Re8+,Kc7,Ra8,Kb6,Rd8,Kc7,Rxd6,Kxd6,Ne8+,Kxd5,Nxg7,Nxb4,Nf5,Nc6,Ke3,b5,g5,Ke6,Ke4,b4,Ne3,b3,Nc4,Nd4,g4,Nc6,g6,Kf6,Kd5,Kxg6,Kxc6', 'e4,Kc5,e3', 'https://lichess.org/training/2LfMj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2LHsN', 'Rapid', 'Meea', 1754, 'mingus', 1704, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,d6,Be2,Nf6,Nc3,Be7,O-O,O-O,f3,b6,Be3,c5,Qd2,Bb7,Rad1,Qc7,Nd5,Bxd5,exd5,a6,c4,Nd7,Rde1,Bf6,g4,Bh4,Bf2,Qd8,Bg3,Ne5,f4,Bxg3,hxg3,Ng6,Kg2,Rb8,Rh1,b5,b3,bxc4,bxc4,Qf6,Rb1,Rxb1,Rxb1,Re8,Bd3,Qd4,Rb6,Re3,Rb8+,Nf8,Bxh7+', 'Kxh7,Qxd4,cxd4', 'https://lichess.org/training/2LHsN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2lkWo', 'Rapid', 'caturaga2020', 1984, 'Jangid97', 2048, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,e5,Nf3,Be7,Bc4,O-O,O-O,Bg4,h3,Bh5,Qd3,Nbd7,Nh4,Nc5,Qe3,Nfxe4,Nxe4,Nxe4,Qxe4,Bxh4,Bd5,Rb8,Bxb7,a5,c3,h6,Bd5,Kh8,g3,f5', 'Qxh4,Qxh4,gxh4', 'https://lichess.org/training/2lkWo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2llaQ', 'Blitz', 'Mutuangombe', 1946, 'lucky-mike', 1834, 'd4,d5,Nf3,Nf6,Nc3,Bf5,Bf4,e6,e3,Bd6,Bxd6,cxd6,Bd3,Ne4,O-O,Nxc3,bxc3,Be4,Nd2,Bg6,Qg4,Qa5,Bxg6,hxg6,Nb1,Nd7,Qf4,Qc7,e4,dxe4,Qxe4,Nf6,Qe2,Nd5,c4,Nf4,Qd2,d5,cxd5', 'Ne2+,Kh1,Rxh2#', 'https://lichess.org/training/2llaQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2llpE', 'Rapid', 'mah202020', 1619, 'amfathi', 1709, 'd4,d5,Nf3,e6,Bg5,Be7,Bf4,Nf6,e3,O-O,c4,Ne4,Bd3,Nf6,Nc3,Bb4,Qb3,Bxc3+,Qxc3,c6,O-O,Ne4,Qc2,Nd7,Bxe4,dxe4,Qxe4,Nf6,Qe5,Ng4,Qh5,Nf6,Qh4,Ne4,Ng5,h6,f3,hxg5,Bxg5,Nxg5,f4,Ne4,Qg4,e5,Qd1,exd4,exd4,Re8,f5,Nd6,Qd3,Re4,c5,Nxf5,Qxe4,Nxd4,Rad1,Be6,Rxd4,Qa5,a3,Qxc5,Rd1,Bd5,Qf4,Re8,b4,Qc3,R4d3,Re1+,Rxe1', 'Qxe1+,Qf1,Qxf1+,Kxf1,Bc4', 'https://lichess.org/training/2llpE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2lOno', 'Rapid', 'Obauern', 1686, 'bingenca', 1723, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,c5,c3,Nc6,Bd3,g6,Nbd2,Bg7,h4,Qe7,Qe2,Bd7,Bc7,cxd4,exd4,Ng4,Ng5,e5,Nh3,O-O,O-O-O,e4,Bb5,Nxd4,cxd4,Rac8,Kb1,Rxc7,Bxd7,Qxd7,Nb3,Rfc8,Nc5,Qf5,Ka1,Nf6,Ng5,b6,Na6,Rc2,Qb5,Qxf2,Rb1,Qxd4,Nb4,Rxg2,Nc6,Rxc6,Qxc6,h6,Qc8+,Bf8,Nh7,Nxh7,h5,g5,Rhf1,Rf2,Rfd1,Rd2,Rf1,Kg7,Qf5,Qf6,Qxh7+,Kxh7,Rxf6,Bg7,Rxf7,Rh2,Rxa7,Rxh5,Rf1,g4,a3,Rg5,Rg1,h5,Rb7,Rg6,a4,g3,Ka2,h4,b4,h3,a5,h2,Rh1,g2,Rxh2+,Kg8,Rb8+,Kf7,Rb7+,Kf6', 'Rxb6+,Kf7,Rxg6,Kxg6,Rxg2+', 'https://lichess.org/training/2lOno');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2lpU6', 'Rapid', 'Jovic16', 1604, 'Adjunction', 1646, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d5,exd5,Qxd5,Nf3,Bg4,Nc3,Qa5,Be2,Nf6,O-O,Bxf3,Bxf3,e6,Re1,Bb4,Bxc6+,bxc6,Bd2,Rd8,a3,Bxc3,bxc3,O-O,c4,Qc7,Bg5,Qe7,d5,cxd5,cxd5,Rxd5', 'Qxd5,Nxd5,Bxe7', 'https://lichess.org/training/2lpU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2lwbr', 'Rapid', 'cohun', 1627, 'magnusistrash', 1636, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,Nf6,Be3,Bxe3,fxe3,d6,d4,Bg4,d5,Na5,Be2,h5,O-O,Qd7,Bb5,c6,Ba4,b5,Bb3,cxd5,exd5,O-O,Qd3,Bf5,e4,Bg4,Nxb5,Nxb3,axb3,Bxf3,Rxf3,Ng4,c4,a6,Nc3,Rfb8,Ra3,g6,h3', 'Qa7+,Kf1,Nh2+,Ke2,Nxf3', 'https://lichess.org/training/2lwbr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2LYQ6', 'Blitz', 'IM alexkaspi', 2513, 'FM alekskooks', 2448, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd3,d5,Ne2,c5,cxd5,Nxd5,a3,Bxc3+,bxc3,Nc6,O-O,h6,e4,Nf6,dxc5,Qa5,a4,Rd8,Qc2,Ne5,Bb5,a6,Bb2,Qc7,f4,Neg4,Bd3,Qxc5+,Kh1,Ne3,Qb1,Nxf1,Nd4,Ne3,Qe1,Nc4,Bc1,e5,fxe5,Nxe5,Bc2,Rxd4,Be3,Neg4,Bxd4,Qh5,h3,Be6,Qg3,Re8,Kg1,Bd7,hxg4,Qxg4,Qxg4,Nxg4,Rb1,Bc6,Re1,f5,e5,Bd5,Bxf5,h5,Bxg4,hxg4,Kf2,Kf7,Kg3,Ke6,Re2,Rc8,Kxg4,Rc4,a5,Ra4,Rf2,Rxa5,Rf8,Ra2,g3,a5,Re8+,Kf7,Rd8,Be6+,Kf3,b5,Rb8,Rb2,Rb7+,Kg6,g4', 'Bd5+,Ke3,Bxb7', 'https://lichess.org/training/2LYQ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2mC4j', 'Blitz', 'CM sodon84', 2387, 'FM WelshTiger', 2394, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,Be2,Bg7,f4,O-O,Nf3,Bg4,e5,dxe5,fxe5,Nfd7,e6,fxe6,O-O,Nf6,Ng5,Bxe2,Qxe2,Re8,Nxe6,Qd7,Qc4,Na6,Nxg7,Kxg7,Bg5,Rf8,Rae1,Rae8,Rxe8,Qxe8,Qh4,Nh5,Re1,Qc8,g4,h6,gxh5,hxg5,Qxg5,Qf5,h6+,Kg8,Qg3,Nb4,d6,Nd3,Rd1,c4,b3,Qc5+,Kh1,Nf2+,Kg2,Nxd1', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/2mC4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2MDwr', 'Blitz', 'GM MardakerXXX', 2746, 'vladlymar_08', 2432, 'Nf3,Nf6,d4,d5,c4,e6,g3,Be7,Bg2,O-O,O-O,dxc4,Qc2,c5,dxc5,Bxc5,Qxc4,Be7,Nc3,Nc6,Rd1,Qa5,a3,a6,Bg5,Ne5,Nxe5,Qxe5,Bf4,Qa5,b4,Qh5,Bf3,Qg6,Qc7,Re8,Ne4,Nd5,Qc1,Bd7,Be5,Bc6,h4,f6,h5,Qf7,Bb2,Rac8,h6,Nxb4,Qd2,Bxe4,Bxe4,Nc6,hxg7,Kxg7,Kg2,e5,Rh1,Rh8,Qh6+,Kg8,Bf5,Rd8,Rh4,Bf8,Rg4+,Bg7,Be6,Kf8,Rxg7,Qxg7,Qh4,Qe7,Bc4,Nd4,Bc3,Ke8,Bb4,Qg7,e3,Nf5,Qe4,Nd6,Bxd6,Rxd6,Rc1,Qd7,Bb3,Ke7,Kh2,Rc6,Rd1,Rd6,Rh1,Kf8,a4,Rd2,Qf3,Kg7,Rf1,Qd3,Qxb7+,Kg6', 'Qf7+,Kg5,Qg7+,Qg6,Qxh8', 'https://lichess.org/training/2MDwr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2mfjE', 'Blitz', 'emad1968', 1766, 'anatoly007', 1783, 'e4,e5,Bc4,c6,Nf3,f6,c3,Ne7,d4,d5,exd5,cxd5,Be2,e4,Nfd2,Nbc6,Nb3,f5,Bg5,h6', 'Bh5+,g6,Bxg6+,Nxg6,Bxd8', 'https://lichess.org/training/2mfjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2mg3t', 'Blitz', 'shashwat-shakti', 1726, 'averageguy7', 1746, 'd4,e5,dxe5,f6,exf6,Nxf6,h3,Bc5,Bf4,d5,c3,O-O,e3,Re8,Be2,Nc6,Nf3,Bf5,Nbd2,h6,O-O,g5,Bh2,g4,hxg4,Nxg4,Nd4,Qh4,Bxg4,Bxg4,N4f3,Qf6,Qb3,Rad8,Bg3,Bd6,Bh4,Qf5,Bxd8,Bxf3,Nxf3,Nxd8,Rad1,c6,c4,Re4,cxd5,Nf7,dxc6,Rg4,Rxd6,Qxf3,Rd8+,Kg7,Qc3+,Kg6,Rg8+,Kh5,Rxg4,Qxg4,cxb7,Ng5,b8=Q', 'Nf3+,Kh1,Qh4+,Qh2,Qxh2#', 'https://lichess.org/training/2mg3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2MhRk', 'Rapid', 'annbhut', 1935, 'Bebeman2020', 1894, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,Be6,Bd3,g6,Ng5,Qd7,Nxe6,Qxe6+,Be3,Bg7,O-O,Nf6,Na4,Nbd7,Re1,Qd6,c3,O-O,Qb3,Rab8,Nc5', 'Nxc5,dxc5,Qxd3', 'https://lichess.org/training/2MhRk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2mhXz', 'Rapid', 'krokodil_gena', 2047, 'hjg', 1989, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,Nxe5,Be7,Qf3,O-O,Be3,Be6,Nc3,Nc4,Bc1,Bf6,b3,Nxe5,dxe5,Bxe5,Bb2,Qf6,Qe3,Bd4,Ne4,Bxe3,Nxf6+,gxf6,fxe3,f5,Rf3,f6,Rh3,Bf7,Bxf6,Bg6,Bd4,b6,Rg3,c5,Bb2,Rfe8,Rd1,Rad8,Rxd8,Rxd8,Bc3,Rd1+,Kf2,Rc1,Ke2,Rxc2+,Kd3,f4+', 'Rxg6+,hxg6,Kxc2', 'https://lichess.org/training/2mhXz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Mih5', 'Rapid', 'Legend_of_Falker', 1950, 'cplyakap1905', 1870, 'd4,d5,Nf3,e6,Bf4,Bd6,Bg3,Nf6,Nc3,O-O,e3,Nc6,a3,Re8,Bd3,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Rxe5,O-O,Rh5,Qf3,Bg4,Qg3,Rg5,Be2,Nh5,Qxg4,Rxg4,Bxg4,Nf6,Bf3,c6,Rad1,Qc7,Rd4,Re8,Rfd1,g6,h3,Nd7,Ne2,Ne5,Ng3,Nc4,e4,Nxb2,Rb1,Nc4,exd5,Nxa3,d6,Qd7,Rc1,Nb5,Rd3,f5,Ne2,Nxd6,Rcd1,Re6,Nf4,Rf6,g4,Qc7,g5,Nf7,gxf6,Qxf4,Bg2,Qg5,Rd7,Qxf6,Rxb7,Ne5,Bxc6,Nxc6,Rdd7,Qf8,Rdc7,Nd4,c3,Ne6,Rxh7,a5,Rhe7,Nc5,Ra7,a4,Rec7,Ne6,Rc6,Qe8,Rca6,Nc5', 'Ra8,Qxa8,Rxa8+', 'https://lichess.org/training/2Mih5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2mjid', 'Rapid', 'RAO9', 1817, 'Pratyusa1111', 1859, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,Ng5,Ne5,Nxf7,Nxf7,Bxf7+,Kxf7,Qh5+,g6,Qxc5,Qe7,Qxd4,Nf6,O-O,Qxe4,Qc5,c6,Nc3,Qxc2,Qc4+,Kg7,Qd4,Rf8,Bg5,d5,Bxf6+,Rxf6,Na4,b6,b3,Bd7,Rfe1,Kf7,Nb2,Rf8,Rac1,Qf5,Nd3,Kg8,Re7,R8f7,Rxf7,Rxf7,Re1,c5,Qe3,d4,Qg3,Bb5,Ne5,Re7,h3,d3,Nxd3,Rxe1+,Nxe1,Qb1,Qb8+,Kg7,Qe5+,Kh6,a4,Ba6,Qe3+,Kg7,Kh2,Qf5,Nf3,Qf6,Qd2,Bb7,Qd7+,Qf7,Qg4,Bd5,Ne5,Qe6,Qxe6,Bxe6,Nc4,Kf6,g4,Bxc4,bxc4,a6,Kg3,Ke5,f4+,Kd4', 'f5,Ke5,fxg6', 'https://lichess.org/training/2mjid');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2mkl7', 'Classical', 'Duncanflechas', 2106, 'mkv5959', 2123, 'e4,e6,d4,c6,Nc3,Bb4,Bd2,b6,a3,Bxc3,Bxc3,d5,exd5,cxd5,Nf3,Nf6,Bd3,O-O,O-O,Ba6,Ne5,Bxd3,Qxd3,Qc7,a4,Nc6,f3,a5,Nxc6,Qxc6,Bd2,Qc4,Qxc4,dxc4,Rfe1,Nd5,c3,Rfb8,Reb1,b5,axb5,Rxb5,Ra4,Rab8,Rxc4,h6,Bc1,Rb3,Ra1,Nb6,Rc5,a4,Bf4,Rb7,Ra2,Kf8,Bc7,Nd5,Bd6+,Ke8,c4,Nb6,Bc7,Nd7,Rc6,Rxb2,Rxa4,Nb6,Rxb6,R7xb6,Bxb6,Rxb6,Kf2,Rb2+,Kg3,Rd2,c5,g6,h4,Kd7,Ra7+,Ke8,Ra4,Kd7,Rc4,Kc6,Kf4,Rxg2,Ke5,Rf2,f4,g5,hxg5,hxg5,fxg5,Rf5+,Ke4,Rxg5,Ra4,Kd7,Ra7+,Ke8,c6,Rb5,Rb7,Rh5,Rxf7', 'Kxf7,c7,Rh8', 'https://lichess.org/training/2mkl7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Mm0t', 'Classical', 'alishazly', 1844, 'QOTKP', 1837, 'Nf3,Nf6,d4,d5,c4,e6,Nc3,b6,Bg5,Be7,cxd5,Nxd5,Bxe7,Qxe7,Rc1,Bb7,e3,O-O,Bd3,c5,O-O,Nxc3,bxc3,Nd7,e4,Rfd8,a4,Nf8,Re1,Ng6,d5,Nf4,c4,exd5,exd5,Qf6,Bb1,g6,g3,Nh3+,Kg2,Ng5,Nd2,Bc8,h4,Bh3+,Kg1,Re8,hxg5,Rxe1+,Qxe1,Qxg5,Nf3,Qh5,Qe3,Bd7,Nh2,Bxa4,Qe7,Re8,Qxa7,Bd1,Qd7', 'Re1+,Kg2,Bf3+,Nxf3,Qh1#', 'https://lichess.org/training/2Mm0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2mPi7', 'Classical', 'eastlynne', 1813, 'Kanaan92', 1664, 'Nf3,Nc6,g3,e5,d3,Nf6,Bg2,Bc5,O-O,h6,Nbd2,d6,h3,Be6,Re1,Qd7,c3,Bxh3,d4,exd4,cxd4,Nxd4,Nxd4,Bxg2,Kxg2,Bxd4,Nf3,Bb6,e4,Ng4,Re2,O-O-O,e5,Rde8,Bf4,g5,Be3,Nxe3+,fxe3,g4,Nd4,Rxe5,Rc1,h5,a4,a5,Nb5,h4,Rd2,h3+,Kh2,Qf5', 'Nxd6+,Kb8,Nxf5', 'https://lichess.org/training/2mPi7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2mqPM', 'Rapid', 'Mulkan17', 1836, 'sergey781', 1830, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,h3,Bh5,Nc3,e6,a3,a6,Bf4,Bd6,Bg3,Bxg3,fxg3,Qc7,Be2,Qxg3+,Kd2,Qf4+,Ke1,Nc6,Kf2,Bxf3,Bxf3,Qxd4+,Qxd4,Nxd4,Rhf1,Nxc2,Rfd1,Nf6,Rac1,d4,Na4,Ne3,Rxd4,Ned5,Bxd5,Nxd5,Re1,O-O,Nc5,b6,Nd7,Rad8,Ne5,Rd6,Rg4,b5,Kg1,f6,Nd3,Rc8,b4,Rc3,Nc5,e5,Ne4,f5,Rxg7+,Kxg7,Nxd6,Kf6,Rf1,Ne3', 'Ne4+,Ke6,Nxc3,Nxf1,Kxf1', 'https://lichess.org/training/2mqPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2mRC9', 'Rapid', 'one-ideaed', 1697, 'Vlkt0r', 1788, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Bg4,h3,Qh5,Be2,e6,O-O,Bf5,d3,c6,Ne5,Qh4,Bf3,Bd6,Qe2,Nbd7,Nxd7,Nxd7,Ne4,Bc7', 'Bg5,Bxe4,Bxh4', 'https://lichess.org/training/2mRC9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2MRPz', 'Blitz', 'victor01', 2017, 'ravoori94', 1993, 'd4,Nf6,f4,e6,Nf3,b6,e3,Bb7,c3,d5,Bd3,Ne4,O-O,Be7,Nbd2,f5,Ne5,O-O,Ndf3,Nd7,Bd2,c5,Be1,Bf6,Bxe4,fxe4,Nxd7,Qxd7,Ne5,Bxe5,fxe5,Rxf1+,Kxf1,Rf8+,Kg1,Qf7,Qe2,g5,Bg3,h5,h3,g4,hxg4,Qg6,Bf4,hxg4,Qf2,Ba6,Qg3,Rf7,Kf2,Rh7,a4,Bd3,b4,c4,b5,Qh5,a5,bxa5,Rxa5,Kf8,Ra1,Ke8,Ra6,Kd8,Rxe6,Qh1,Qxg4', 'Qf1+,Kg3,Qe1#', 'https://lichess.org/training/2MRPz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2mu0f', 'Classical', 'lets-get-tactical', 1956, 'lalitrathee', 1997, 'e4,c5,f4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Bc4,e6,O-O,Bxf3,Qxf3,Qd4+,Kh1,Qxc4,d3,Qa6,f5,Nf6,fxe6,fxe6,Bg5,Be7,Bxf6,Bxf6,Rae1,O-O,Ne4,Nd7,Qg4,Bxb2,Ng5,Rxf1+,Rxf1,Re8,Rf7,Rf8,Qh5,h6', 'Rxf8+,Nxf8,Qf7+,Kh8,Qxf8#', 'https://lichess.org/training/2mu0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Mu5d', 'Rapid', 'desh_a', 1861, 'Senka321', 2069, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Nc3,Bb4,Bd2,O-O,O-O-O,Re8,f3,d5,Qf2,dxe4,fxe4,Qe7,Bd3,Bg4,Re1,a5,h3,Be6,Kb1,a4,Nd5,Nxd5', 'exd5,Bxd2,Qxd2', 'https://lichess.org/training/2Mu5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2muXM', 'Rapid', 'HaithamNagy', 1669, 'linuxmanju', 1650, 'e4,c5,Nf3,Nc6,Bc4,e6,a3,Nf6,Nc3,Be7,d4,cxd4,Nxd4,O-O,Be3,d5,exd5,exd5,Ba2,Bg4,Qd2,a6,f3,Nxd4,Bxd4,Re8,O-O-O,Be6,g4,Nxg4,fxg4,Bxg4,Rdg1,Bg5,Rxg4,Bxd2+,Kxd2,g6,Bxd5,Qe7,Re4,Qg5+,Be3,Qg2+,Kd3,Red8', 'Re8+,Rxe8,Bxg2', 'https://lichess.org/training/2muXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2MVEO', 'Classical', 'jpboyeras', 2219, 'FredericNote', 2079, 'Nf3,c5,e4,Nc6,d4,cxd4,Nxd4,Qc7,Nc3,e6,Be3,a6,Qd2,Nf6,O-O-O,Bb4,f3,O-O,a3,Be7,g4,b5,g5,Nh5,f4,g6,Nxc6,dxc6,Be2,Ng7,Bd4,Rd8,Qe3,c5,Bxc5', 'Rxd1+,Rxd1,Bxc5', 'https://lichess.org/training/2MVEO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2MWl2', 'Blitz', 'flying-circus', 2010, 'sabj', 2001, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f4,Bg7,e5,dxe5,fxe5,Bg4,Bb5+,Nbd7,Qd3,Nh5,e6,fxe6,Nxe6,Qc8,Nxg7+,Nxg7,Qd4,O-O,Qxg4,Nf5,Qc4+,Qxc4,Bxc4+,Kg7,O-O,Ne5,Be6,Nd4,Rxf8,Rxf8,Bb3,Ng4,Ne4', 'Ne2+,Kh1,Rf1#', 'https://lichess.org/training/2MWl2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2MZiP', 'Blitz', 'NM skylerwayne23', 2443, 'Sandro_Ladion', 2205, 'c4,Nf6,Nc3,e6,e4,d5,cxd5,exd5,exd5,Nxd5,d4,Be6,Bd3,Bb4,Ne2,Nc6,O-O,O-O,a3,Be7,Be3,Bg5,Qd2,Nxe3,fxe3,Kh8,Ne4,Bh6,Bb5,Ne7,Nf4,Bd5,Nc3,c6,Bd3,Ng6,Bxg6,hxg6,Ncxd5,cxd5,Rac1,b6,Rc6,Qd7,Rc3,Rfe8,Rf3,Re4,Qc2,Rae8,Rc7,Qf5,Qf2,Kg8,Rc3,R4e7,h3,Qb1+,Kh2,Qe4,b4,g5,Nh5,g4,hxg4,Qxg4,Nf4,Bg5,Rh3,Qf5,Qf3,Bxf4+,exf4,Re1,Rc7,Qb1,Qh5,Rh1+,Kg3,Qe1+,Kg4,Rxh3', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/2MZiP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2N03X', 'Rapid', 'MABATL', 1842, 'jaafar0', 1808, 'e4,c5,c3,e6,d4,cxd4,cxd4,d5,exd5,exd5,Nc3,Nf6,Nf3,Be6,Bb5+,Nc6,h3,a6,Ba4,Be7,O-O,O-O,a3,Re8,Bb3,h6,Bf4,Nh5,Bh2,Bd6,Bxd6,Qxd6,Re1,Rad8,Nh2,Nf6,Qd3,Qf4,Nf3,Re7,Qe3,Qd6,Ne5,Rde8,Nxc6,Qxc6,Qf3,b5,Red1,Qb7,Rac1,b4,axb4,Qxb4,Nxd5,Bxd5,Bxd5,Qxb2,Bc4,Qb6,Rc2,Re1+,Rxe1,Rxe1+,Kh2,Qxd4,Bxa6', 'Qd6+,g3,Qxa6', 'https://lichess.org/training/2N03X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2N3bt', 'Rapid', 'benson89', 1773, 'sunil1975', 1781, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Bc5,d4,exd4,cxd4,Bb4+,Nc3,Nf6,a3,Bxc3+,bxc3,O-O,d5,Na5,Ba2,Nxe4,Qc2,Re8,O-O,d6,Nd4,c5,Ne2,Bg4', 'f3,Bf5,fxe4', 'https://lichess.org/training/2N3bt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2N4gu', 'Rapid', 'amir_92', 1960, 'miguelags', 1903, 'c4,Nf6,d4,d6,Nc3,Nbd7,e4,e5,d5,Nc5,f3,a5,Be3,b6,Qd2,Be7,Nge2,O-O,Nc1,Nh5,Nd3,f5,Nxc5,bxc5,exf5,Nf4,g3,Nh5,Bd3,Bxf5,Bxf5,Rxf5,g4,Rxf3,gxh5,Bh4+,Kd1,Qf6,Kc2,Qf5+,Qd3,Qh3,Nd1', 'Qg2+,Qd2,Qxh1', 'https://lichess.org/training/2N4gu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2n7Z4', 'Rapid', 'qurdebimgerian', 1756, 'Britvich', 1756, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c4,Be7,a3,O-O,Be2,Bf5,Nc3,c5,O-O,Ne4,Nxd5,Nc6,Bd3,cxd4,Re1,Nd6,Bxf5,Nxf5,Qd3,Qd7,Be3,Rad8,Nxd4,Nfxd4,Bxd4,Bg5,Rad1,Rfe8,Rxe8+,Rxe8,Qg3,h6,h4,Re4,hxg5,Rg4,gxh6,Rxg3,hxg7,Rg6,Bc3,Qh3,Nf4,Qg4,Re1,Qxf4', 'Re8+,Kh7,Rh8#', 'https://lichess.org/training/2n7Z4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NBjM', 'Rapid', 'remember-this', 1642, 'Richard909', 1645, 'd4,d5,Bf4,Nf6,e3,Nc6,c4,e6,c5,Na5,Qa4+,Nc6,Bb5,Bd7,Nc3,a6,Bxc6,Bxc6,Qa5,Be7,Bxc7,Qd7,Nf3,O-O,Ne5,Qc8,Bb6,Bd8,O-O,Nd7,Nxd7,Qxd7,b4,Bxb6,Qxb6,Rfb8,a4,Qd8,Qxd8+,Rxd8,b5,axb5,axb5,Bd7,Rxa8,Rxa8,b6,Ra3,Ne2,Bb5,Re1,Bxe2,h4,Bc4', 'c6,bxc6,b7,Rb3,Ra1,h6,Ra8+', 'https://lichess.org/training/2NBjM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NCaW', 'Rapid', 'Zunik', 1952, 'Masha_Prekrasnaya', 2108, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bb5,Bd6,O-O,Ne7,Ne5,O-O,Nxc6,bxc6,Bd3,Ng6,Qh5,Qf6,c3,Bf4,Nd2,Rb8,b3,Re8,Nf3,Bxc1,Raxc1,h6,Bxg6,fxg6,Qh4,g5,Qg3,Qd6,Rfe1,Bf5,Ne5,Re6,Qf3,Be4,Qf7+,Kh7,f3,Rf8,Qh5,Bg6,Nxg6,Rxg6,Re5,c5,Rce1,cxd4,cxd4,Rf4,Qh3,g4,fxg4,Rfxg4,g3,Rxd4,Qf5,Rg4,Rxd5,Rxg3+,hxg3', 'Qxg3+,Kf1,Qg2#', 'https://lichess.org/training/2NCaW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NcNy', 'Blitz', 'FM ViniciusRego', 2322, 'unnamedll', 2224, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,e6,Bf4,h6,Bxb8,Rxb8,e3,Nf6,Nf3,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/2NcNy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NhI3', 'Rapid', 'ZloyZloi', 1758, 'rasoul1367sh', 1733, 'b4,d5,Bb2,Nc6,b5,Nb4,e3,e6,a3,d4,axb4,dxe3,fxe3,Qh4+,g3,Qxb4,Ba3,Qe4,Bxf8,Qxh1,Bxg7,Qxg1,Bxh8,Qxh2,Nc3,Qxg3+,Ke2,e5,Ne4,Bg4+,Kd3,O-O-O+,Kc3,Qh4,Qe1,Qh6,Qg3,Bf5,Bxe5,Bxe4,Bh3+,f5,Rxa7,Kb8,Ra4,Rc8,Rxe4,Ne7,Rd4,Qb6,Kb4,Nc6+,Kc4,Na5+,Kb4,Nc6+,Kc4,Na5+,Kd3,Qxb5+,c4,Qb1+,Ke2,Nb3,Rd7,Nc1+,Kf2,Nd3+,Kg2,Nxe5,Qxe5,Rg8+,Kf2,Qg1+,Ke2,Rc8,Bxf5,Qg2+,Kd3,Qf1+,Kc3', 'Qa1+,Kb3,Qxe5', 'https://lichess.org/training/2NhI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2nkR6', 'Blitz', 'Ryba_Fish', 1917, 'SaxenaIsha', 1905, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Ne2,Bd6,Bg5,O-O,c3,Bg4,f3,Bh5,Nd2,Nbd7,Nb3,c6,Qd2,Qc7,g3,b5,g4,Bg6,O-O-O,a5,Kb1,b4,Nbc1,a4,cxb4,Rfb8,a3,Nb6,h4,Bxd3+,Qxd3,Nc4,Bxf6,gxf6,g5,Bxb4,axb4,Rxb4,Na2,Rxb2+,Ka1,Re8,Nec3,Re3,Qf5,Qb7,gxf6', 'Rxa2+,Nxa2,Qb2#', 'https://lichess.org/training/2nkR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NlFs', 'Rapid', 'tuntger', 1896, 'saurav2295', 2014, 'd4,Nf6,c3,e5,a3,e4,e3,d5,b4,Bd6,f3,O-O,Nd2,Re8,fxe4,Nxe4,Nxe4,Rxe4,Bd3,Qh4+,Kd2,Re8,Nf3,Qf2+,Qe2,Qxe2+,Bxe2,Bf5,h3,Be4,Rf1,Nd7,g4,Nf6,Ng5,Bg6,Bd3,Bxd3,Kxd3,h6,Nf3,Ne4,Nd2,Re6,Nxe4,Rxe4,Bd2,Rae8,Rf3,f6,Raf1,a5,Rf5,c6,Bc1,axb4,axb4,Ra8,b5,Ra4,bxc6,bxc6,R1f2,Bg3,Rb2,Bh4,Rb6,Ra1,Bd2,Be1,Bxe1,Rxe1,Rf3,c5,dxc5,Rc4,c6,Rc1,Rb3,Rxc6,Kd4', 'Rd1#', 'https://lichess.org/training/2NlFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NMDP', 'Rapid', 'Suena', 1613, 'defrost', 1702, 'f4,d5,Nf3,Nc6,d4,Bf5,a3,e6,Nc3,Bd6,g3,Nf6,Bg2,Na5,O-O,Nc4,b3,Nb6,Nb5,Ne4,Nxd6+,Nxd6,c4,dxc4,bxc4,Nbxc4,Ne5,O-O,Nxc4,Nxc4,e4,Bg6,f5,exf5,exf5,Bxf5,Rxf5,Re8,Bxb7,Rb8,Bd5,Ne3,Bxe3,Rxe3,Bxf7+,Kh8,Qh5,Qxd4,Kg2,Qxa1', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/2NMDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2nnJP', 'Rapid', 'The_Vicar', 2042, 'serlav', 1765, 'e4,c5,Nc3,e6,Bc4,a6,a4,Nc6,Nf3,Qc7,O-O,Bd6,d3,Nf6,Re1,Ng4,h3,Nge5,Ba2,Nd4,Nxd4,cxd4,Ne2,Qc5,f4,Ng6,Bd2,a5,Rf1,b6,Qe1,Bb7,c3', 'dxc3+,Kh1,cxd2', 'https://lichess.org/training/2nnJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NpnH', 'Rapid', 'szachy-dla-debili-00', 1639, 'Duranflorescesar', 1719, 'e4,e5,Nf3,Nc6,Bc4,Be7,d3,Nf6,Bg5,d6,O-O,h6,Bh4,Na5,Bb3,Nxb3,axb3,O-O,Nc3,Bg4,h3,Bxf3,Qxf3,Nd7,Bxe7,Qxe7,Nd5,Qd8,b4,c6,Ne3,Qb6,c3,Qb5,Nf5,d5,Qg3,g6,Nxh6+,Kg7,Ng4,dxe4,dxe4,a6,Qh4,Rh8,Qe7,Rad8,Rad1,Rhe8,Qg5,Rh8,Kh1,f6,Qe3,Nb8,Rxd8', 'Qxf1+,Kh2,Rxd8,Qh6+,Kf7', 'https://lichess.org/training/2NpnH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NqpV', 'Blitz', 'Kuzey34', 1734, 'inheaven', 1668, 'd4,Nf6,Nf3,g6,e3,Bg7,Be2,O-O,a3,d6,b4,Nfd7,c4,e5,Bb2,e4,Nfd2,Nf6,Nc3,Nc6,Ncxe4,Nxe4,Nxe4,Bf5,Ng3,Bd7,Qc2,f5,O-O,Qg5,Bf3,f4,exf4,Rxf4,Bc1,Nxd4,Qd2,Nxf3+,gxf3,Be5,Qd5+,Kg7,Bxf4,Qxf4,Rae1,Bc6,Qd3,Bxf3,Re4,Qf6,Re3,Rf8,c5,h5,Ne4,Bxh2+,Kxh2', 'Qh4+,Kg1,Qh1#', 'https://lichess.org/training/2NqpV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NskT', 'Blitz', 'tokka2002', 1955, 'edgousky', 1920, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,c3,Nf6,Bd3,d5,exd5,Nxd5,Nxc6,bxc6,Qe2,Nxe3,Qxe3,O-O,O-O,e5,Nd2,f5,Nb3,e4,Be2,Be6,Qc5,Qe8,Rad1,Bxb3,axb3,Kh8,Bc4,a5,Rd2,Rd8,Rfd1,Rxd2,Rxd2,f4,Re2,e3,f3,Qd7,Re1,Rd8,Qxa5,Qd2,Qa1,g5,h3,Qf2+,Kh1,h5,Rf1,Qg3,Qb1,g4,Qg6,gxh3', 'Qxh5+,Bh6,Qxh6#', 'https://lichess.org/training/2NskT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2nsrt', 'Classical', 'Aquaman2012', 1807, 'LordUstimenkoYury', 1719, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,Ba4,Na5,Bc2,Nf6,d3,Be7,Nbd2,O-O,O-O,h6,Re1,Re8,Nf1,b5,h3,c5,Ng3,c4,d4,exd4,cxd4,d5,e5,Nh7,Bb1,Bb4,Bd2,Bxd2,Qxd2,Kh8,Qc2,g6,Nh5,Bf5,Qd2,Bxb1,Qxh6,gxh5,Raxb1,Rg8,Qxh5,Qe7,h4,Nc6,Ng5,Rg7,e6,fxe6,Rxe6,Qd7,Rh6,Nxd4,Rd1,Nf5,Rxd5,Qxd5', 'Rxh7+,Rxh7,Qxh7#', 'https://lichess.org/training/2nsrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NVcR', 'Bullet', 'sabidago', 1908, 'egon_hubert', 1771, 'e4,e6,Qe2,d5,exd5,Qxd5,Nf3,Nf6,g3,Bc5,Bg2,O-O,O-O,Nbd7,Nc3,Qh5,d4,Bd6,Be3,Ng4,Rad1,Nxe3,fxe3,Nf6,e4,Be7,e5,Ng4,Ne4,b6,Qd2,Bb7,Rde1,Rfd8,c3,c5,Qf4,cxd4,h3,Ne3,Nxd4,Nxf1,Rxf1,a5,Kh2,Bc5,Nxc5,Bxg2,Kxg2,bxc5,Nc6,Rd5,Ne7+,Kf8,Nxd5,exd5,e6,f6,Qd6+,Kg8,e7,Qe2+,Rf2,Qe4+,Kh2,Re8,Qxc5,Rxe7,Qxa5,Qe3,Rg2,Qf3,Qd8+,Kf7,a4,Re2,Qd7+,Re7,Qg4,Qf1,Qd4,Re1,Qxd5+,Kg6,g4,Qf4+,Rg3,Re2+,Kh1', 'Qf1+,Rg1,Qxh3#', 'https://lichess.org/training/2NVcR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2nVzC', 'Classical', 'Ttlagrave12', 1747, 'Monique4', 1765, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Qd7,O-O,Nf6,d3,a6,Bd5,c6,Bb3,a5,a4,Na6,c3,Be7,d4,c5,dxe5,dxe5,Rd1,Qc7,Nd2,Rd8,Nc4,Rxd1+,Qxd1,Nxe4,Ne3,O-O,Nd5,Qd6,Qf3,Nf6,Bg5,e4,Qf4,Qxf4', 'Nxe7+,Kh8,Bxf4', 'https://lichess.org/training/2nVzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2nW3L', 'Rapid', 'Falcon1097', 1767, 'fiorillomichele', 1604, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,Nc3,Be7,Bf4,O-O,O-O-O,Be6,Bd3,c5,Qe3,a6,f3,b5,Nb1,Bxa2,g4,c4,Be2,Re8,e5,Bxb1,Kxb1,Nd7,exd6,Bxd6,Rxd6,Rxe3,Bxe3,Rc8,Rhd1,Rc7', 'Bb6,Qe7,Bxc7', 'https://lichess.org/training/2nW3L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NWBK', 'Classical', 'Jorgedavidmendez', 1705, 'Jellyworld', 1703, 'e4,c5,Nf3,d6,Bb5+,Nd7,e5,a6,Bxd7+,Bxd7,exd6,exd6,Qe2+,Be7,O-O,Nf6,Re1,Bg4,Nc3,Rc8,d3,Rc7,Bg5,O-O,Bxf6,Bxf6,Qe4,Bxf3,Qxf3,Re8,Nd5,Rxe1+,Rxe1,Rc8,Nxf6+,Qxf6,Qxb7,Rd8,b3,Qc3,Rf1,Qxc2,Qc7,Ra8,Qxd6,Qxa2,Qxc5,Qxb3,d4,Rd8,g3,h6,Ra1,Qb5,Qc3,Qb6,Ra4,Qb1+,Kg2,Qe4+,Qf3,Qe6,Qd3', 'Qc6+,d5,Qxa4', 'https://lichess.org/training/2NWBK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2nY62', 'Blitz', 'CaissaSoeze', 2465, 'NM Blackoperator', 2543, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,b5,Ngf3,Qb6,O-O,Nc6,Re1,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Bxb5,Qb6,Qa4,a6,Bd3,Bc5,Qh4,g5,Qg3,h5,Nb3,h4,Qf3,g4,Qf4,g3,hxg3,hxg3,Qxg3', 'Bxf2+,Qxf2,Rh1+,Kxh1,Qxf2', 'https://lichess.org/training/2nY62');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NyX0', 'Blitz', 'Rafal-Rafalski', 2013, 'valicero', 1969, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,c4,Be2,Na5,Nbd2,Bd7,O-O,O-O-O,Ne1,Be7,f4,Nh6,Nc2,Nb3,Nxb3,cxb3,Ne3,Nf5,Nxf5,exf5,Be3,Kb8,c4,dxc4,Bxc4,Be6,Bxe6,fxe6,Qf3,Rd5,Rac1,Rhd8,Rc3,a5,Bf2,a4,Rc4,Qb5,Rfc1,Qa5,Be1,Qb6,Bb4,Bxb4,Rxb4,Qa7,Rcc4', 'Rxd4,Rxd4,Rxd4,Rxd4,Qxd4+', 'https://lichess.org/training/2NyX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NZhT', 'Classical', 'closure3', 1627, 'mac2200', 1639, 'd4,d5,Bf4,Nc6,e3,f6,Nd2,e5,dxe5,fxe5,Bxe5,Nxe5,Qh5+,Nf7,Bb5+,c6,Bd3,g6,Qf3,Ne7,Ne2,Ng5,Qg3,Nf5', 'Qe5+,Kf7,Qxh8', 'https://lichess.org/training/2NZhT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2nzhU', 'Rapid', 'MAXIMDAIZ', 1829, 'TantoTempel', 1840, 'd4,e6,a3,d5,Nf3,Nc6,Bg5,Be7,Bf4,Nf6,e3,Bd7,h3,Ne4,Bd3,Nf6,Nc3,a6,b4,Na7,b5,axb5,Ne5,O-O,Nxd7,Qxd7,Rb1,c6,O-O,Bxa3,Be5,Be7,Bxf6,Bxf6,Na2,Nc8,Nb4,Ne7,c3,Ng6,Bxg6,fxg6,f3,Be7,Qd3,Bxb4,cxb4,Ra2,e4,Rfa8,e5,Qe7,Qc3,Qg5,g4,Qh4,f4,R8a3,Rb3,Rxb3,Qxb3,Ra4,Kg2,Qe7,f5,Rxb4', 'f6,gxf6,exf6', 'https://lichess.org/training/2nzhU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2NZzf', 'Rapid', 'Terval', 2113, 'achja', 2340, 'd4,Nf6,c4,e6,Nf3,c5,Bg5,cxd4,Nxd4,Qa5+,Bd2,Qb6,Bc3,Ne4,e3,Nxc3,Nxc3,Qxb2,Rc1,a6,Be2,Bb4,Qc2,Qxc2,Rxc2,Nc6,O-O,O-O,Ne4,Be7,Bf3,f5,Nd2,Ne5,Be2,f4,e4,Bc5,N4f3,Nc6,Nb3,Ba7,c5,h6,Rd1,g5,Nfd4,Kg7,Nxc6,bxc6,Nd2,Rb8,Nf3,Kf6,e5+,Ke7,Nd2,Rf5,Nf3,Rb4,Rcd2,Bxc5,Rc2,Ba7,Rcd2,g4,Nh4,Rxe5,Ng6+,Kf6,Nxe5,Kxe5,Bxg4,d5,Re2+,Kd6,h4,Rb7,Rde1,Re7,Re5,Bd4,Rh5,c5,Rxh6,c4,Bf5,Bd7,Bc2,Kc5,Kf1,Bc3,Rd1,d4,a3,d3,Bxd3,cxd3,Rxd3,Kc4,Rd1,Bb5,Kg1,Kb3,Rh5,e5,Rf5,Kxa3,g3,fxg3,fxg3,Bd4+,Kh2,Bc6,h5,a5,g4,Be4,Rf8,Rc7,Rd2,a4,g5,Kb3,Rb8+,Kc3,Re2,Kd3,Ra2,Bd5,Rxa4,e4,Rd8,Bc4', 'Ra3+,Ke2,Rxd4', 'https://lichess.org/training/2NZzf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2O0Xe', 'Rapid', 'rizalo', 1991, 'VladelecBMW', 1990, 'b3,e5,Bb2,d6,e3,g6,d4,Bg7,dxe5,Bxe5,Bxe5,dxe5,Qxd8+,Kxd8,Nc3,Be6,Nf3,Nd7,O-O-O,Ke7,Be2,a6,h3,f5,Ng5,Ngf6,Nxe6,Kxe6,f4,e4,Bc4+,Ke7,Nd5+,Nxd5,Rxd5,c6,Rd2,Rad8,Rhd1,Nf6,Rxd8,Rxd8,Rxd8,Kxd8,Kd2,Ke7,Kc3,Nd5+,Kd4,Kd6,Bxd5,cxd5,a4,b6,g4', 'fxg4,hxg4,h5', 'https://lichess.org/training/2O0Xe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2O6Sj', 'Rapid', 'rgky', 1783, 'andrescortese', 1828, 'e4,e6,Nf3,d5,d4,Nf6,Nc3,dxe4,Ng5,Bb4,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,Ncxe4,Nxe4,Nxe4,Qxd4,Ng3,O-O,Qxd4,Nxd4,c3,Nc2,cxb4,Nxa1,Bf4,Nc2,Bxc7,Nxb4,Bd6,Nxa2,Bxf8,Kxf8,Nh1,Nb4,f4,Rd8,Nf2,Rd2,b3,Rb2,Ra1,a6,h4,Rxb3,Rc1,Nd5,g3,Rxg3+,Kh2,Nxf4', 'Rc8+,Ke7,Kxg3', 'https://lichess.org/training/2O6Sj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2o71Y', 'Rapid', 'Maxwell0318', 1794, 'butlookatmycentre', 1822, 'd4,Nf6,Bf4,c5,c3,cxd4,cxd4,d5,Nf3,Nc6,e3,Bf5,Nc3,e6,Bb5,Bd6,Bg5,O-O,Qe2,Be7,h3,Nb4,Rc1,Rc8,a3,Na2', 'Nxa2,Rxc1+,Nxc1', 'https://lichess.org/training/2o71Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Oax4', 'Classical', 'KoolE', 1681, 'knappe04', 1791, 'd4,Nf6,c4,c5,Nf3,cxd4,Nxd4,e5,Nf3,Nc6,Bg5,Bb4+,Nc3,Qa5,Qc2,Nd4,Qd3,Bxc3+,bxc3,Nxf3+,Qxf3,e4,Qe3,O-O,Bxf6,gxf6,Qd4,Kg7,h4,Re8,Rh3,Re5,Rg3+,Kh8,e3,b6,f3,exf3,Rxf3,Bb7,Rxf6,Rae8,Rxf7,Kg8,Rxd7,Rxe3+,Kd2,Rg3,Rxb7,Qa3,Qd5+,Kh8,Bd3', 'Qb2+,Kd1,Qxa1+', 'https://lichess.org/training/2Oax4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2OcBf', 'Blitz', 'CM jonynakamura', 2192, 'puntosgratis2020', 2033, 'f4,d5,Nf3,Nf6,e3,e6,b3,Bd6,Bb2,O-O,Be2,Re8,Ne5,Nc6,O-O,Nd7,Nxc6,bxc6,d4,f6,c4,e5,dxe5,fxe5,cxd5,exf4,dxc6,Nb6,exf4,Qh4,g3,Qe7,Bf3,Bh3,Bg2,Bxg2,Kxg2,Rad8,Qf3,Bc5,Be5,Bd6,Nc3,Bxe5,fxe5,Qxe5,Rad1,Rxd1', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/2OcBf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ocnW', 'Rapid', 'WannabeGMtoo', 1853, 'BishopZunder', 1915, 'd4,e6,Bf4,d5,c4,c6,Nc3,dxc4,e4,Nd7,Bxc4,Nb6,Bb3,Bb4,Ne2,Nf6,Qc2,O-O,O-O,Re8,Rad1,Qe7,a3,Bxc3,Nxc3,Nh5,Be5,f6,Bg3,Kh8,Qd3,e5,d5,cxd5,Bxd5,Rd8,Qf3,Nxg3,Qxg3,Nxd5,Nxd5,Qf7,Rd3,Be6,Rfd1,Rd7,Nc7', 'Rxd3,Qxd3,Qxc7', 'https://lichess.org/training/2ocnW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2oCwx', 'Rapid', 'zulik', 1632, 'rahmathasandoost48', 1751, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,O-O,Nc6,f3,Nh5,f4,Bd7,Bxh5,gxh5,Nxc6,Bg4,Nxd8,Bxd1,Nxf7,Bxc2,Ng5,Rfb8,Rac1,Bd3,Rf3,Bc4,a3,Rc8,e5,dxe5,fxe5,Bxe5,Rf5,Bf6,Nge4,Kf7,Bg5,Bd3,Rd1,Bxe4,Nxe4,Kg6,Rdf1,Bxg5,Rxg5+,Kh6,h4,Rc4,Ng3,Rxh4,Rff5,Rc8,Re5,Rc1+,Kf2,Rc2+,Kf3,Rxb2,Nf5+,Kxg5,Nxh4+,Kxh4', 'g3+,Kh3,Rxh5#', 'https://lichess.org/training/2oCwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ODdq', 'Blitz', 'AF_Newport', 1692, 'ERENBABA100', 1533, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,h6,Nf3,e4,Ne5,Bd6,Nc4,Nxc4,Bxc4,O-O,O-O,Bg4,Be2,Bxe2,Qxe2,Qc7,h3,Rfe8,Nc3,Nd5,Qc4,Nxc3,dxc3,Bf4,Bxf4,Qxf4,Qxc6,e3,fxe3,Qxe3+,Kh1,Qg3,Rad1,Rac8,Qd5,Re2,Qxf7+,Kh8,Qf3,Qxf3,Rxf3,Rxc2,Rb1,Rb8,Rf7,Rbxb2,Rxb2,Rxb2,Rxa7,Kh7,a4,Kg6,a5,Kg5,a6,Kf4,Ra8', 'Kg3,Rd8,Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/2ODdq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2oE1R', 'Rapid', 'Kush-pipada', 2133, 'Arav-pipada007', 1693, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,Nc6,Nf3,Be7,e3,h6,Bh4,Bf5,Qb3,Na5,Qa4+,c6,b4,Nc4,Bxc4,dxc4,Ne5,g5,Bg3,b5,Qa6,Bxb4,Qxc6+,Kf8,O-O,Bxc3,Rac1,Bd2,Rcd1,c3,Qxb5,Qd5,Qa6,Ne4,f3,Bxe3+,Kh1,Nxg3+,hxg3,Kg7,g4,Bh7,Rfe1,Bf4,Qa3,c2,Rc1,Bxc1,Qxc1,Qxa2,Nc6,Qd5,Ne7,Qxd4,Rg1,Rhe8,Nc6,Qc5,Qb2+,Kf8', 'Qh8+,Bg8,Qxh6#', 'https://lichess.org/training/2oE1R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2oflX', 'Rapid', 'oomh', 1737, 'Elvampire', 1700, 'f4,d5,d4,Nc6,Nf3,Bf5,e3,Nb4,Bd3,Nxd3+,cxd3,e6,O-O,Nf6,Nc3,h6,Qc2,Be7,e4,Bg4,e5,Nd7,h3,Bf5,Ne2,O-O,Ng3,Bg6,h4,Bxh4,Kf2,Bxg3+,Kxg3,f6,exf6,Nxf6,Nh4,Nh5+,Kh3,Bf5+,Nxf5,Rxf5', 'g4,Rf7,gxh5', 'https://lichess.org/training/2oflX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2OgAK', 'Rapid', 'Blacktoothgrim', 1840, 'ShuichiLK', 1841, 'd4,Nf6,c4,e5,d5,Bc5,Nc3,O-O,Nf3,e4,Ng5,Re8,g3,Ng4,Ngxe4,Bf8,Bg2,f5,h3,Nf6,Bg5,fxe4,Nxe4,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,b3,d6,O-O,Bf5,e3,Be4,f3,Bf5,g4,Bd7,Qd2,c6,a4,Na6,Rae1,Nc7,b4,cxd5,cxd5,Bxa4,Rc1,Rac8,Ra1,Bb5,Rfc1,a6,f4,Na8,Kh2,Nb6,g5,Qf7,Bf3,Bc4,Bg4,Rcd8,Be6,Rxe6,dxe6,Bxe6,Rc3,Rc8,Rac1,Rxc3,Rxc3,Nd5,Rd3,Qd7,e4,Nb6,f5,Bc4,Rxd6,Qb5,Rd8+,Kf7,g6+,hxg6,fxg6+,Kxg6,Qg2+,Kf6,Rd6+,Be6,Qf3+,Ke5,Qc3+,Kxd6,Qxg7,Qe2+,Kg3,Qxe4,Qf8+,Kd5', 'Qc5#', 'https://lichess.org/training/2OgAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Oh03', 'Blitz', 'Fotomodel', 1856, 'sorens', 1883, 'g3,d5,Bg2,c5,Nf3,Nc6,O-O,e5,d3,Bd6,e4,d4,c3,Nf6,cxd4,Nxd4,Nxd4,cxd4,Nd2,Be6,f4,exf4,gxf4,Ng4,Nf3,Ne3,Bxe3,dxe3,e5,Bc5,d4,Bb6,Qe2,Bg4,Qxe3,Bxf3,Qxf3,Qxd4+,Kh1,O-O,b3,Rab8,Rad1,Qb2,a4,Rbd8,e6,fxe6,Qg4,Qf6,Rde1,Rde8,Bxb7,Rf7,Bc6,Ref8,Rxe6,Qd4,Re4,Qd2,Re2,Rxf4,Rxf4,Qd1+,Kg2,Qg1+,Kh3,Qxg4+,Kxg4,h5+,Kg5,Bd8+,Kg6,Rxf4', 'Re8+,Rf8,Bd5+,Kh8,Rxf8#', 'https://lichess.org/training/2Oh03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2oHJt', 'Rapid', 'GIANNISPAP39', 1638, 'HOGOFOGO', 1902, 'd4,d5,Nc3,e6,Nf3,a5,Bf4,Bd6,Bg5,Nf6,e3,c6,Ne5,h6,Bxf6,Qxf6,Qf3,Bxe5,dxe5,Qxe5,Qg3,Qxg3,hxg3,b5,Be2,Nd7,O-O,b4,Na4,Ba6,Bxa6,Rxa6,Rfd1,O-O,Rd2,c5,Rad1,c4,b3,c3,Rd3,Ne5,Rd4,Rc6,e4,dxe4,Rxe4,f6,Rde1,Kf7,f4,Nd7,Rd4,Ke7,Red1,Rd8,R4d3,f5,Rd4,g5,fxg5,hxg5,R4d3,e5,Rd5,f4,gxf4,gxf4,Rxa5,e4,Rh5,Nf6', 'Re5+,Re6,Rxe6+,Kxe6,Rxd8', 'https://lichess.org/training/2oHJt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Ohmx', 'Rapid', 'king__chess__89', 1800, 'roke17', 1715, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nxe5,d4,Bb4,dxe5,d6,exd6,Bxd6,Bc4,h6,Qd4,Nf6,e5,Qe7,O-O,Bxe5,Qh4,g5,Bxg5,Be6,Rfe1,O-O-O,Bxe6+,fxe6,Rxe5,hxg5,Qxg5,Rdg8,Qe3,Qg7,g3,Ng4,Qxa7,Qxe5,Rd1,c6,Na4,Qe2', 'Nb6+,Kc7,Rd7#', 'https://lichess.org/training/2Ohmx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2OJQs', 'Classical', 'oldbiglake', 1919, 'mahdiyar81', 2049, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Bc4,Nf6,Nc3,Qc7,Bb3,Nc6,Bg5,Nxd4,Qxd4,e5,Qa4+,Bd7,Qc4,Qxc4,Bxc4,Be7,Nd5', 'Nxd5,Bxd5,Bxg5', 'https://lichess.org/training/2OJQs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Ojsv', 'Rapid', 'Galactus1', 1955, 'Slashernax-24', 1924, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Bd3,Be7,O-O,b5,a4,b4,Nce2,Bb7,Bd2,a5,Bb5+,Nbd7,Nc6,Bxc6,Bxc6,Rc8,Bb7,Rb8,Ba6,O-O,Ng3,Nc5,Be2,Ncxe4,Nxe4,Nxe4,Bd3,Nxd2,Qxd2,Bf6,Rab1,d5,Qf4,e5,Qf5,g6,Qh3,Bg7,b3,f5,Rbd1,e4,Bc4,Kh8,Rxd5,Qb6,Rfd1,Rbd8,g3,e3,fxe3', 'Qxe3+,Kh1,Qf3+', 'https://lichess.org/training/2Ojsv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Om36', 'Classical', 'Mattison', 1663, 'Kloppo09', 1698, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,Bxc3,bxc3,c5,Bg5,cxd4,Qxd4,Nc6,Qd1,h6,Bxf6,Qxf6,Qd3,Nb4,Qd2,O-O,Rb1,Nxa2,Qxa2,Qxc3+,Qd2,Qxc4,e3,Qg4,g3', 'Qe4,Bd3,Qxh1', 'https://lichess.org/training/2Om36');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2OnqW', 'Blitz', 'BalkanPersona', 2075, 'FM thestench', 2221, 'e4,d5,exd5,Nf6,d4,Bg4,Nf3,Qxd5,Be2,Nc6,c4,Qf5,d5,O-O-O,Nbd2,Nb4,Nd4,Qe5,N2f3,Bxf3,Nxf3,Qf5,Nd4,Qg6,O-O,e5,a3,Na6,Nb5,Kb8,Be3,Bc5,Qa4,Bxe3,fxe3,Qe4,Bf3,Qxe3+,Kh1,Ne4,Qc2,Nd6,Rae1,Qg5,b4,Nxb5,cxb5,f5,bxa6,e4,Be2,Rxd5,axb7,Rd2,Qc5,Rhd8,Rc1,R8d7,Ba6', 'Qxg2#', 'https://lichess.org/training/2OnqW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2OPEH', 'Classical', 'nacitr', 1960, 'SundanceXLC', 2047, 'c4,e5,Nf3,Nc6,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Nb6,O-O,Be7,d3,O-O,a3,a5,b3,Be6,Bb2,f6,Rc1,Nd5,Nb5,Kh8,Nd2,Bg8,Ne4,Rc8,Nc5,Bxc5,Rxc5,Qe7,Rxd5,Bxd5,Bxd5,Qc5,Bc4,Nd4,Nxd4,exd4,a4,Rfe8,Re1,Rcd8,e3,dxe3,Rxe3,Rxe3,fxe3,Qxe3+,Kg2,Re8,Qf3', 'Qd2+,Qf2,Re2', 'https://lichess.org/training/2OPEH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Oqag', 'Classical', 'bestz', 1871, 'titan176', 1826, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,f4,c5,d5,e5,Nf3,Bg4,O-O,Ne8,Ng5,Bxe2,Qxe2,h6,Nh3,Nd7,f5,gxf5,Rxf5,Ndf6,Bd2,Kh7,Raf1,Rg8,Nf2,Rc8,Ng4,Rc7,Nxf6+,Nxf6,Qf3,Bh8,Rxf6,Qxf6,Qxf6,Bxf6,Rxf6,Rg6,Rf2,a6,Na4,f6,Nb6,Kg7,g3,Kf7,Kf1,Ke7,Ke2,Kd8,h4,Rcg7,Na4,Rxg3,Rxf6,Rg2+,Kd1,Rh2,Rxd6+,Kc7,Rxh6,Rg1+,Kc2,Rgg2,Rh7+,Kb8,Nxc5,Rxd2+,Kc3,Rc2+,Kd3,Rcd2+,Kc3,Rc2+,Kd3,Rcd2+,Ke3,Rde2+,Kf3,Ref2+,Kg4,Rf4+,Kg5,Rg2+,Kh5,Rxb2,Nd7+,Kc8,Nxe5,Rxe4,Nd3,Rh2,Kg5,Rxc4,h5,Rg2+,Kf5,Rd4,Rh8+,Kc7,Rh7+,Kd6,Rh6+,Kd7,Nc5+,Kc8', 'Rh8+,Kc7,Ne6+,Kd6,Nxd4', 'https://lichess.org/training/2Oqag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2orIL', 'Rapid', 'mind4u', 1689, 'prayvojuve1897', 1650, 'd4,d5,Bf4,Bf5,e3,a6,Nc3,Nc6,Nf3,Nb4,Bd3,Nxd3+,cxd3,e6,Nh4,Qxh4,g3,Qh3,Bxc7,Qg2,Kd2,Qxf2+,Ne2,Bb4+,Kc1,Rc8,Qa4+,b5,Qxb4,Qxe3+,Kd1,Qxd3+,Ke1,Rxc7,Rd1,Qf3,Rf1,Qg2,Qd6,Rc2,Rf2,Rxe2+,Rxe2,Qg1+,Kd2,Qxd4+,Ke1,Qg1+,Kd2,Qd4+,Ke1,Qa4,Rc1,f6,Rxe6+,Bxe6', 'Qxe6+,Ne7,Rc8#', 'https://lichess.org/training/2orIL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2oSDg', 'Blitz', 'hwatt2', 1625, 'abo_aljud', 1642, 'e4,g6,Nf3,Bg7,d4,d6,Be2,Nf6,Nc3,O-O,h4,Bg4,Ng5,Bxe2,Qxe2,h6,Nf3,Nbd7,h5,Nxh5,g4,Nhf6,g5,hxg5,Bxg5,e5,d5,c6,O-O-O,cxd5,Nxd5,Qa5,Nxf6+,Nxf6,a3,Rac8,Bh6,Bxh6+,Rxh6,Qc5,c3,d5,Nxe5,dxe4,Nxg6,fxg6,Rxg6+,Kf7,Rdg1,Nd5,Rg7+,Ke6,Qg4+,Rf5,Qxe4+,Re5,R1g6+,Nf6,Qg4+,Rf5,Rxf6+,Kxf6,Qg6+,Ke5,Qg3+,Ke6,Qg6+,Rf6,Qg4+,Qf5,Qe2+,Qe5,Qg4+,Rf5,Qg6+,Qf6,Qg4,Qh6+,Kc2,Ke5,Re7+,Kf6,Rd7,Qf4', 'Qg7+,Ke6,Qe7#', 'https://lichess.org/training/2oSDg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2OsOr', 'Blitz', 'Mohammad_saraie', 1656, 'hoseeinh326', 1671, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,Ng4,d4,exd4,Nxd4,Bxd4,Qxg4,Bxc3+,bxc3,O-O,Bh6', 'Qf6,Qxg7+,Qxg7,Bxg7,Kxg7', 'https://lichess.org/training/2OsOr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2OwPw', 'Rapid', 'Butron', 1836, 'javirivo', 1911, 'd4,e6,a3,d5,Nc3,Nf6,Bg5,c5,dxc5,Bxc5,e3,O-O,Bd3,h6,Bh4,Nbd7,Nf3,Qc7,Bg3,e5,Bf5,Re8,O-O,a6,Bxd7,Bxd7,Bxe5', 'Rxe5,Nxe5,Qxe5', 'https://lichess.org/training/2OwPw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2oxJ9', 'Rapid', 'Vladimir_01031959', 1939, 'BoniekNur', 1904, 'e4,e5,f4,exf4,Nf3,Ne7,h4,d5,exd5,Nxd5,Bc4,Be6,d3,Be7,Bxd5,Bxd5,Bxf4,Bxf3,Qxf3,Bxh4+,g3,Qe7+,Kd1,Qb4,Re1+,Be7,Bxc7,Nc6,Be5,Nxe5,Rxe5,Qxb2,Qe4,Qxa1,Rxe7+,Kf8,Qxb7,Re8,Rxf7+,Kg8,Rc7,Qe5,Qb3+,Qe6', 'Qxe6+,Rxe6,Rc8+,Kf7,Rxh8', 'https://lichess.org/training/2oxJ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2OYP2', 'Classical', 'enroque8', 1685, 'quixhnote', 1679, 'd4,e6,Bf4,d5,e3,c5,c3,Qb6,Qc2,Nc6,Nf3,Nf6,h3,h6,Ne5,Nxe5,dxe5,Ne4,f3,Ng5,h4,Nh7,Nd2,f6,Qg6+,Kd8,Rb1,fxe5,Bxe5,Bd7,Bxg7,Be8,Bf6+,Kc7,Qg3+,Bd6,Qg7+,Bd7,Be5,Bxe5,Qxe5+,Kc6,c4,Rhe8,Qg7,Rh8,cxd5+,exd5,Qxh6+,Kc7,Qf4+,Qd6,Qxd6+,Kxd6,Bd3,Nf6,g4,Bxg4,fxg4,Nxg4,Ke2,Rae8,Nf1,c4,Bg6,Re5,Rg1,Rxh4,Bc2,b5,Rd1,Nh2,Nxh2', 'Rxh2+,Kf3,Rxc2', 'https://lichess.org/training/2OYP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2P1V3', 'Blitz', 'Tobberk', 2127, 'twoody', 2124, 'e4,e5,Nf3,f5,Nxe5,Nf6,d4,d6,Nc4,fxe4,Bg5,Bf5,Ne3,Bg6,c4,Be7,h4,h6,Bxf6,Bxf6,Be2,Bxh4,g3,Bg5,Bh5,Bxh5,Qxh5+,Kf8,Nc3,Nc6,O-O-O,Nb4,Nxe4,Bxe3+,fxe3,Nxa2+,Kb1,Nb4,Rdf1+,Kg8,Rf7,Qe8', 'Nf6+,gxf6,Qg6#', 'https://lichess.org/training/2P1V3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2p2jR', 'Rapid', 'Jehad_1972', 1664, 'teucamara', 1628, 'e4,e6,Nf3,d5,exd5,Bc5,Bc4,exd5,Bb5+,c6,Ba4,Bf5,O-O,Ne7,d4,Bd6,Nc3,O-O,Bd2,Nd7,a3,Nb6,Bb3,Nc4,Rb1,b5,Bc1,Qd7,a4,a6,Re1,Rae8,axb5,axb5,Bg5,f6,Bh4,Ng6,Bg3,Rxe1+,Qxe1,Re8,Qd1,Nf4,Ba2,Be4,Bxc4,Bxf3', 'Qxf3,bxc4,Bxf4', 'https://lichess.org/training/2p2jR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2p3q6', 'Blitz', 'Muha750', 2485, 'IM sherlock1888', 2556, 'Nf3,c5,g3,b5,Bg2,Bb7,O-O,e6,b3,Nf6,Bb2,Be7,c4,b4,d4,O-O,dxc5,Na6,Nbd2,Nxc5,Ne5,Bxg2,Kxg2,Qc7,Nd3,a5,Nxc5,Qxc5,Qc2,a4,f3,d5,e4,Rfc8,Rac1,dxc4,Nxc4,axb3,axb3,h5,Ra1,h4,Rxa8,Rxa8,Ra1,Rxa1,Bxa1,Qh5,Bxf6,h3+,Kf2,Bxf6,Qd3,Qc5+,Kf1,Bd4,f4,Qa7,Ke2,Qa2+,Qd2,Qa1,Kf3,f5,exf5,exf5,g4,Qf1+,Kg3,Qg1+,Kxh3', 'Qxg4#', 'https://lichess.org/training/2p3q6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2P8WU', 'Rapid', 'Seyidd', 1775, 'Inverso', 1767, 'd4,d5,e3,Nf6,Nf3,Bg4,Nc3,e6,h3,Bxf3,Qxf3,Bd6,Bd3,O-O,g4,e5,dxe5,Bxe5,Qf5,Nc6,g5,g6,Qf3,d4,exd4,Nxd4,Qg2,Nxc2+', 'Bxc2,Bxc3+,bxc3', 'https://lichess.org/training/2P8WU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2pbDF', 'Bullet', 'Nebojsa_NS', 1933, 'cutiepiemlove1999', 1859, 'd4,d6,Nf3,g6,c4,Bg7,Nc3,Nf6,Bf4,O-O,e3,Re8,Be2,Nh5,Bg5,h6,Bh4,g5,Nd2,Nf6,Bg3,Nbd7,d5,c6,O-O,cxd5,cxd5,Nb6,e4,e6,Bb5,Bd7,dxe6,fxe6,Bxd6,Bxb5,Nxb5,a6,Nc7,Qxd6,Nxa8,Rxa8,Qe2,e5,Rfd1,Qe6,b3,Re8,Rac1,Re7,Nc4,Nxc4,Rxc4,Rd7,Rdc1,Qd6,f3,Nh5,g3,Nf6,Qc2,Qd3,Rc8+,Kh7,Rc7,Qxc2,R1xc2,g4,Kf2,gxf3,Kxf3,Rd4,Rxb7,Nxe4,Rcc7,Ng5+,Kg2,Ne6,Re7,Rd6,Rbd7,Rb6,Rb7,Rc6,Ra7,e4,Kf2,Kg6,Ke2,Bd4,Ra8,Rc2+,Ke1,Nc5,Rd8,Nd3+,Kd1,Rc1+,Kd2', 'Bc3+,Ke3,Re1#', 'https://lichess.org/training/2pbDF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2PBSH', 'Rapid', 'RADOSLAW_97', 1749, 'bat_fastard', 1767, 'd4,f5,c4,c6,Nc3,e6,Nf3,Nf6,Bg5,Be7,e3,O-O,Bd3,d5,h4,Ne4,a3,Nxg5,hxg5,Bxg5,Ne2,Nd7,Nxg5,Qxg5,Ng3,Nf6,Qe2,Ne4,Bxe4,fxe4,O-O-O,dxc4,Rh5,Qe7,Rdh1,h6,Nxe4,b5,Qg4,Kh8,Re5,Bd7,f3,Rf5,Rh5,Rxe5,Rxe5,a5,Nc5,b4,axb4,axb4,Nxd7,Qxd7,Rxe6,Re8', 'Rxh6+,gxh6,Qxd7', 'https://lichess.org/training/2PBSH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2PBWa', 'Blitz', 'Avalanche_BR', 2053, 'MostComplete', 2030, 'd4,d5,c4,e6,Nc3,c5,cxd5,cxd4,Qxd4,Nc6,Qc4,exd5,Qxd5,Bd7,Bg5,Nf6,Bxf6,Qxf6,Nf3,O-O-O,Qc4,Be6,Qb5,Bb4,Rc1,a6,Qa4,Kb8,e3,Qg6,a3,Bd6,Bxa6,Qxg2,Bxb7,Qxh1+,Ke2,Qxc1,Qa8+,Kc7,Nb5+,Kb6', 'Qa6+,Kc5,Qxc6#', 'https://lichess.org/training/2PBWa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2pcw9', 'Rapid', 'marknorth71', 1824, 'ajkrishn', 1777, 'c4,e5,Nc3,Nf6,g3,c6,Bg2,Bb4,e3,Bxc3,bxc3,d6,a4,Be6,d3,Nbd7,Rb1,Rb8,Ne2,Bg4,h3,Bf5,e4,Be6,f4,exf4,Nxf4,Qe7,O-O,O-O,Qc2,Ne5,Qe2,Ng6,d4,Nxf4,Rxf4,Qd8,e5,Ne8,Ba3,Kh8,Rh4,Rg8,exd6,Nxd6,Qe5,Nxc4', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/2pcw9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2pE7f', 'Rapid', 'GUSTIandy', 2003, 'teckhno', 1956, 'e4,e6,Bc4,c6,d4,d5,exd5,cxd5,Bb5+,Nc6,Bxc6+,bxc6,Nf3,Bd6,Bg5,Qb6,b3,h6,Be3,Nf6,O-O,Qc7,h3,Bf4,Qd2,Ne4', 'Bxf4,Nxd2,Bxc7', 'https://lichess.org/training/2pE7f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2PgHL', 'Blitz', 'Huachinango', 2353, 'IM Wea_pawn', 2492, 'Nf3,c5,e4,Nc6,Nc3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nf6,Bc4,Qa5,O-O,Qb4,Bb3,Nxd4,Bxd4,O-O,a3,Qa5,f4,d6,f5,gxf5,Bxf6,Bxf6,Nd5,Bxb2,Nxe7+,Kh8,Rb1,Qe5,Nxf5,Bxf5,Rxf5,Qxe4,Qh5,Rg8,Rf3,Bd4+,Kh1,Rae8,Rbf1,Qe2,Qh3,Rg7,Bxf7,Rf8,Bd5', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/2PgHL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2phtK', 'Rapid', 'Separator45', 2054, 'kis1946', 2152, 'd4,Nf6,e3,c5,c3,b6,Bd3,Bb7,Nf3,d5,c4,cxd4,exd4,e6,Bf4,Nbd7,cxd5,Nxd5,Bg3,Bb4+,Nbd2,O-O,O-O,f5,a3,Be7,Be5,Nxe5,Nxe5,Bd6,Ndf3,Nf4,Bc4,Bxe5,dxe5,Qe8,Qb3,Qg6,Nh4,Qh6,g3', 'Nh3#', 'https://lichess.org/training/2phtK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2PNiG', 'Classical', 'QueenForAKing', 2206, 'Traffka1070', 1945, 'd4,d5,c4,Nc6,Nf3,dxc4,e3,e5,d5,e4,dxc6,Qxd1+,Kxd1,exf3,gxf3,Ne7,cxb7,Bxb7,Nd2,Rd8,Kc2,Ng6,Bxc4,Ne5,Be2,g6,b3,Bb4,Rd1,Bxd2,Rxd2,Nxf3,Rxd8+,Kxd8,Bb2,Re8,Rd1+,Kc8,h3,Be4+,Kc1,Re6,Bc4,Rc6,Bc3,Bf5,Kb2,Ng5,h4,Ne4,f4,h5,Be5,Be6,Bb5,Rb6,Be2,Bg4,Bxg4+,hxg4,Rc1,Rb7,f5,gxf5,h5,f6,h6,c5,Bd4,Rh7,Bxc5,Nxc5,Rxc5+,Kd7,Rxf5,Rxh6,Rf4,Rg6,Kc3,g3,Rf1,Ke6,Kd3,g2,Rg1,Ke5,Ke2,Ke4,Kf2,Kd3,b4,Kc4,Rxg2', 'Rxg2+,Kxg2,Kxb4', 'https://lichess.org/training/2PNiG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2PomN', 'Rapid', 'klanfa', 1869, 'wowker', 1863, 'e4,e6,Nf3,Ne7,d4,d5,Bd3,Nbc6,O-O,dxe4,Bxe4,f5,Bxc6+,Nxc6,Nc3,Nb4,Ne5,Be7,Qh5+,g6,Nxg6,hxg6,Qxh8+,Kd7,Qxd8+,Kxd8,Bf4,Nxc2,Rad1,g5,Be5,Nb4,Nb5,Nd5,Rc1,c6,Nd6,Bd7,Nxb7+,Ke8,Nd6+,Kf8,a3,Kg8,b4,a6,Nb7,Kh7,Nc5,Bc8,Rfe1,g4,g3,Bg5,Rc2,f4,Nxe6,Bxe6,Rxc6,Bd7,Rd6,Bb5,Rxd5,fxg3,fxg3,Bd2,Rd1', 'Be3+,Kg2,Bc6,Kf1,Bxd5', 'https://lichess.org/training/2PomN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2PpAz', 'Rapid', 'JJbuikema', 1845, 'luci76', 1818, 'e4,d5,exd5,Qxd5,Qf3,Qd6,Nc3,e5,Bc4,Be6,Bxe6,Qxe6,Qxb7,Qc6,Qc8+,Ke7,Nf3', 'Nd7,Qxc7,Qxc7', 'https://lichess.org/training/2PpAz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2pqYA', 'Rapid', 'devran25', 1604, 'Ithinkurmad', 1606, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,d6,Nc3,Nbd7,e4,O-O,Bg5,e5,Nd5,c6,Ne3,Qb6,Rb1,c5,Nc4,Qb4+,Nfd2,exd4,c3,dxc3,bxc3,Qxc3,O-O,Re8,Bxf6,Bxf6,Nxd6,Re5,Nf3,Rh5,Nxc8,Ne5,Nxe5,Qxe5,Nd6,Rd8,f4,Qxd6,Qxd6,Bd4+,Kh1,Rxd6,Rbd1,b5,e5,Rc6,Rf3,f6,exf6,Bxf6,Rfd3,c4', 'Rd8+,Bxd8,Rxd8+,Kf7,Bxc6', 'https://lichess.org/training/2pqYA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2prEm', 'Blitz', 'kasparovgenoa', 2187, 'sachistaAles', 2224, 'd4,d5,Nf3,c5,g3,cxd4,Bg2,Nc6,Nxd4,Nxd4,Qxd4,Nf6,O-O,e6,c4,dxc4,Qxc4,Be7,Nc3,O-O,Rd1,Qb6,Be3,Qb4,Qc7,Bd7,Rxd7,Nxd7,Qxd7,Qxb2,Rb1,Qxc3,Qxe7,Qc2,Rxb7,Qd1+,Bf1,a5,Kg2,Qd5+,f3,Qxa2,Kf2,a4,Bh3,a3,Bc5,Qd5,Rd7,Qc4,Rd4,Qb3,Qd7,a2,Bxf8,Rxf8,Rd1,Qb1,Bxe6,a1=Q', 'Qxf7+,Rxf7,Rd8#', 'https://lichess.org/training/2prEm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Pryy', 'Rapid', 'piconinis2', 1917, 'DAitoro1', 2014, 'f4,c5,Nf3,Nc6,e3,d5,b3,Bg4,Be2,Nf6,Bb2,g6,Ne5,Bxe2,Qxe2,e6,Qb5,Qc7,Nxg6,hxg6,Bxf6,Rh7,O-O,Be7,Bxe7,Kxe7,Qxc5+,Kd7,Na3,Rah8,Nb5,Qb8,h3,f5,Nd4,Qg8,Nxc6,bxc6,Qxa7+,Kd6,Qa3+,Kd7,Qa7+,Kd6,Qd4,g5,Qe5+,Kd7,fxg5,Qxg5,Kf2,Rh4,c4,Rg8,Rg1,Re4,Qh2,Qh4+,g3,Qg5,cxd5,exd5,Rac1,d4,Rce1,Rge8,h4,dxe3+,dxe3,Qe7,Rd1+,Kc8,Rge1', 'Rxe3,Rxe3,Qxe3+,Kf1,Qf3+', 'https://lichess.org/training/2Pryy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2psJO', 'Blitz', 'Tal-style76', 2101, 'PACHACUTEC27', 2195, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,a6,Nf3,e6,a3,Nc6,Bc4,Qc7,Qe2,Bd6,Be3,b5,Bxb5,axb5,Nxb5,Qb8,Rd1,Ba6', 'Nxd6+,Qxd6,Rxd6,Bxe2,Kxe2', 'https://lichess.org/training/2psJO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2PtxV', 'Rapid', 'didaka', 1978, 'mettin', 1903, 'e4,e5,Nc3,Bc5,Bc4,h6,Qf3,Nf6,d3,d6,Nge2,a6,Nd5,Be6,Nxf6+,Qxf6,Qxf6,gxf6,Bxe6,fxe6,Ng3,Nd7,c3,O-O-O,b4,Ba7,Ke2,h5,h4,Rdg8,Rg1,Rg4,Rh1,Nb6,Be3,Kb8,a4,d5,a5,Nd7,Bxa7+,Kxa7,Nf1,dxe4,Rd1,exd3+,Rxd3,Nf8,Ne3,Rg7,Rd8,Rhg8,Rhd1,Ng6,g3,f5,Rxg8,Rxg8,Rd7,f4,Nc4,fxg3,fxg3,e4,Ke3,c6,Nd6,Ne5,Rxb7+,Ka8,Kxe4,Nc4,Rd7', 'Rg4+,Kd3,Ne5+,Ke3,Nxd7', 'https://lichess.org/training/2PtxV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2PVP2', 'Blitz', 'klooth', 1651, 'NM ZugAddict', 2170, 'e4,e5,Nf3,Nc6,Bb5,f5,exf5,e4,Bxc6,bxc6,Qe2,Qe7,Nd4,c5,Nb5,d5,d3,Ba6,dxe4,Kd8,Nd4,cxd4,Qxa6,Qxe4+,Kf1,Nf6,Bg5,Bd6,Nd2,Qxc2,Qb7,Kd7,Bxf6,Qd3+,Kg1,Qxd2,Qb5+,c6,Qb7+,Bc7,Be5,Rhc8', 'Bxc7,Rxc7,Qxa8', 'https://lichess.org/training/2PVP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Pvvi', 'Rapid', 'Phucwins', 1766, 'Problemthere', 1755, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nf6,d3,O-O,O-O,d6,Bg5,h6,Bh4,a6,Nd5,g5,Bg3,Nxd5,Bxd5,Nb4,Bb3,Qe7,a3,Nc6,h4,g4,Nh2,h5,Kh1,Nd4,Ba2,Kg7,c3,Nc6,f3,f5,exf5,Bxf5,fxg4,hxg4,Nxg4,Kh7,Bd5,Bxg4,Qxg4,Rxf1+,Rxf1,Rf8,Qh5+,Kg7,Rxf8,Qxf8,Qg5+,Kh8,b4,Bb6,Qh5+,Kg7,Be4,Ne7,Qh7+,Kf6,h5,Kg5,Be1,Be3,d4,Qf1+,Kh2,Bf4+,Bg3,Bxg3+,Kxg3', 'Qf4+,Kh3,Qh4#', 'https://lichess.org/training/2Pvvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2pvvx', 'Blitz', 'Oleskul', 2366, 'FM Pabmar70', 2330, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Qd6,d4,exd4,Qxd4,Qxd4,Nxd4,c5,Nb3,Bd7,Rd1,O-O-O,Bf4,Ne7,Nxc5,Ng6,Nxd7', 'Nxf4,Nb6+,cxb6,Rxd8+,Kxd8', 'https://lichess.org/training/2pvvx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2pWUK', 'Rapid', 'mazemazemaze', 1697, 'Terese1997', 1713, 'd4,Nf6,Bf4,e6,Nf3,a6,e3,Nc6,Bd3,b5,O-O,Bb7,b3,d5,Ne5,Nb4,c3,Nxd3,Qxd3,c5,Nd2,cxd4,exd4,Be7,Rac1,O-O,c4,dxc4,bxc4,bxc4,Rxc4,Nd5,Be3,Nxe3,fxe3,f6,Nc6,Bxc6,Rxc6,Qd5,Rfc1,e5,Rxa6,exd4,exd4', 'Rxa6,Qxa6,Qxd4+,Kh1,Qxd2', 'https://lichess.org/training/2pWUK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2pyN9', 'Rapid', 'daletrust', 1800, 'elite32', 1810, 'e4,d6,d4,c6,d5,Bd7,Bc4,Qc7,Nc3,Nf6,Qe2,e5,dxe6,fxe6,Bf4,e5,Bg5,b5,Bxf6,gxf6,Qh5+,Kd8,Bb3,Be8,Qf5,Bg7,O-O-O,Bg6,Qh3,Nd7,Nge2,Kc8,f4,Kb7,Nd5,Qd8,f5,Bf7,Ndc3,Bxb3,cxb3,Nc5,Kb1,a5,Qe3,Qe7,h4,a4,h5,h6,b4,Na6,Rd3,Nxb4,Rd2,Rhd8,Rhd1,Kc7,a3,Na6,Rc2,Kb7,Rdc1,Nc5,Na2,Rac8,Nb4,Rd7,Rc3,Rdc7,Rxc5,dxc5,Rxc5,Bf8,Rc2,Rd8,Nc3,Qc5,Qe2,Qg1+,Rc1,Qb6,Ncd5,cxd5,Rxc7+,Qxc7,Nxd5,Qc4,Qd2,Qf1+,Ka2,Qc4+,Ka1,Qf1+,Ka2,Qc4+,b3,axb3+,Kb2,Qc2+,Qxc2,bxc2,Kxc2,Bxa3,Kb3,Bf8,Nxf6,Rd3+,Kc2,Rd4,Kc3,Bg7,Ne8,Bh8,f6,Rc4+,Kd3,Rd4+,Ke3,Rd8', 'f7,Bf6,f8=Q', 'https://lichess.org/training/2pyN9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2pZtY', 'Blitz', 'Phoenix-Ra', 1706, 'Christopho', 1759, 'e4,d5,f4,dxe4,Nc3,Nf6,Nge2,Bf5,h3,h5,g3,Nc6,Bg2,Qd7,b3,O-O-O,Bb2,e5,O-O,Bc5+,Kh1,Bxh3,Ng1,Bxg2+,Kxg2,Ng4,Nxe4,h4,f5,h3+,Nxh3,Rxh3,Kxh3,Rh8+,Kg2,Rh2+,Kf3,Nd4+,Kxg4,g6,Nxc5', 'gxf5+,Rxf5,Qxf5#', 'https://lichess.org/training/2pZtY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2q4UR', 'Rapid', 'FaizM', 1629, 'Chess_man_777', 1897, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,h3,O-O,d3,h6,Nd5,d6,O-O,Na5,b4,Nxc4,dxc4,Nxd5,bxc5,Nf6,cxd6,cxd6,Qd3,Be6,Ba3,Rc8,Nd2,Ne8,f4,f5,fxe5,fxe4,Rxf8+,Kxf8,Qxe4,Qb6+,Kh1,Kg8,exd6,Bd7,Rf1,Nf6,Qg6,Rf8,Qd3,Qa5,c5,Bb5,Nc4,Bxc4,Qxc4+,Kh8,Bb4,Qd8,Rd1,Qd7,Bc3,a6,Bxf6,Rxf6,Kh2,Rf8,a3,Rc8,Rd5,b6,Qc3,bxc5,Rxc5', 'Qxd6+,Qe5,Qxc5', 'https://lichess.org/training/2q4UR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Q5kQ', 'Rapid', 'Guido955', 2304, 'FM talk2uee', 2354, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Be2,O-O,O-O,Ncxe5,Nxe5,Nxe5,Nc3,d6,b3,Qh4,Bb2,Bg4,Bxg4,Nxg4,h3,Nxf2,Rxf2,Bxe3,Qf3,Rae8,Nd5,Bxf2+,Qxf2,Qxf2+,Kxf2,c6,Nf4,Re4,g3,Rfe8,h4,f6,h5,b5,cxb5,cxb5,Rd1,Rd8,h6,gxh6,Bxf6,Rd7,Kf3,Re8,Rd5,Kf7,Bd4,a6,Rh5,Re1,Rxh6,Kg8,Nd5,Rf7+,Kg4', 'Re4+,Nf4,Rxd4', 'https://lichess.org/training/2Q5kQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2q9fE', 'Rapid', 'Cyranos', 1731, 'Maksat_kz', 1658, 'e4,b6,d4,Bb7,Nc3,e6,a3,Be7,Nge2,Nf6,Qd3,Ba6,Qg3,Bb7,f3,g6,Bh6,Nh5,Qh3,Bc8,f4,Nc6,O-O-O,a5,g4,Nf6,Bg7,Rg8,Bxf6,Bxf6,Qxh7', 'Rh8,Qxh8+,Bxh8', 'https://lichess.org/training/2q9fE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2QDNW', 'Blitz', 'WIM OlgaGut', 2392, 'FM destroyernumber1', 2352, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,c3,d5,exd5,Nxd5,b4,Be7,Qb3,Be6,Nbd2,f6,Ne4,Kh8,a4,Qd7,a5,Rad8,Nc5,Bxc5,bxc5,Nf4,Bxf4,Bxc4,Qxc4,exf4,d4,g5,Nd2,g4,f3,gxf3,Nxf3,Qf5,Ra2,Rg8,Raf2,Rde8,a6,bxa6,Qxa6,Ne7,Qxa7,Nd5,Qb7,Ne3,Qxc7,Qd3,Qxf4,Rxg2+,Rxg2', 'Qxf1#', 'https://lichess.org/training/2QDNW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2qe6S', 'Rapid', 'oncetherewasabear', 1638, 'miljancaa', 1623, 'Nf3,d5,d4,Bg4,Ne5,Bf5,Bf4,f6,Nf3,Bg4,e3,Nc6,h3,Bxf3,Qxf3,Nb4,Bd3,Nxd3+,cxd3,g5,Bh2,Qd7,Nc3,e6,O-O,O-O-O,Rfd1,Bb4,e4,Bxc3,bxc3,Nh6,Qxf6,Ng8,Qxh8,Rf8,Qe5,Qf7,Bg3,g4,hxg4,Nf6,g5,Nh5,g6,hxg6,f3,Nxg3,Qxg3,dxe4,dxe4,e5,Rac1,exd4,cxd4,c6,Qg4+,Kb8,d5,cxd5,Rxd5,Qf6,Rdc5,Qd4+,Kh1,Rh8+,Qh3,Rxh3+,gxh3,b6,Rc8+,Kb7,R1c7+,Ka6,Ra8,Qd1+,Kg2,Qd2+,Kg3', 'Qd6+,f4,Qxc7', 'https://lichess.org/training/2qe6S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2qevC', 'Blitz', 'annaly1979', 2317, 'FM Dolgorukij', 2383, 'e4,e6,d4,d5,Bd3,c5,c3,cxd4,cxd4,dxe4,Bxe4,Nf6,Bf3,Bb4+,Nc3,O-O,Ne2,Nbd7,O-O,Nb6,Bg5,Be7,Qd3,Re8,Rad1,h6,Bh4,Nfd5,Bg3,Bd7,Ne4,Bc6,a3,Nf6,N2c3,Nxe4,Nxe4,Rc8,Rc1,a6,Rfd1,Nd5,Nc5,Qb6,b4,Nf6,Bxc6,Rxc6,Be5,Rd8,Qg3,Kf8,h3,Rcc8,Kh1,Qc6,f3,Qd5,Ne4,Qd7,Rc5,b6,Rxc8,Rxc8,Kh2,Rc2,Nxf6,Bxf6,Bxf6,gxf6,Qb8+,Kg7,Qxb6,Qd5,Qc5,Qa2,Rg1,Qxa3,d5,Qxf3,dxe6', 'Qf4+,Kh1,Rxc5', 'https://lichess.org/training/2qevC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2QiqO', 'Rapid', 'josepaga10', 1974, 'hus2018', 2109, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Re1,d6,c3,Bg4,h3,Bh5,d3,h6,Be3,O-O,Nbd2,d5,Bb3,g5,Qc1,d4,cxd4,exd4,Bxg5,hxg5,Nxg5,Ne5,Qc2,c5,f4,Ng6,Rf1,Nd7,h4,Nxh4,g3,Bxg5,gxh4,Bxh4,Kh2,Qf6,e5,Qf5,Ne4,b6,Ba4,Bg6,Nd6,Qg4,f5,Qg3+,Kh1,Bh5,Rg1,Bf3+,Qg2,Nxe5,Raf1,Bxg2+,Rxg2,Qxg2+,Kxg2,Nxd3,Kh3,Bf2,Ne4,Be3,f6,Kh7,Bc2,Nf4+,Kg4,Rg8+', 'Ng5+,Kh6,Rh1+,Nh5,Rxh5#', 'https://lichess.org/training/2QiqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2qJbz', 'Rapid', 'Ram57', 1808, 'samantha19', 2003, 'd4,Nf6,Bf4,d5,e3,e6,c4,Nbd7,Nf3,a6,Bg5,dxc4,Ne5,b5', 'Nc6,Bb7,Nxd8', 'https://lichess.org/training/2qJbz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2QmCw', 'Classical', 'fouadmohsen', 1826, 'naser-anand', 1825, 'd4,e6,c4,Nf6,Nc3,Bb4,Bg5,h6,Bh4,O-O,Nf3,d5,e3,Nc6,cxd5,Bxc3+,bxc3,exd5,Bd3,Qd6,O-O,Bg4,Be2,Ne4,Qc2,Ne7,Bg3,Qc6,Rfc1,f6,c4,Qe6,h3,Nxg3,hxg4,Nxe2+,Qxe2,c6,cxd5,cxd5,Nh2,Rac8,Qb5,b6,Qd3,f5,f3,fxg4,Nxg4,Nf5,Ne5,Nh4,e4,dxe4,Qxe4,Qe7,Qd5+,Kh8,Re1,Qg5,Re2,Rc1+,Rxc1,Qxc1+,Kf2,Qh1,Kg3,Nf5+,Kf2,Nh4,g3,Qg2+,Ke3,Qxg3,Nf7+,Rxf7,Qxf7,Qg1+,Ke4,Qb1+,Ke5', 'Qb5+,Kd6,Qxe2', 'https://lichess.org/training/2QmCw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Qmp0', 'Classical', 'TuomKarp', 1824, 'Paniza', 1828, 'e4,c5,Nf3,e6,d4,Nf6,Nc3,cxd4,Nxd4,Bb4,f3,O-O,g4,d5,g5,Nh5,f4,g6,Be2,Ng7,Bf3,dxe4,Bxe4,Nh5,Bf3,Ng7,Be3,Na6,Kf2,Bxc3,bxc3,Nf5,Nxf5,exf5,Bd4,Qc7,Rb1,Nc5,Qe2,Be6,Be5,Qa5,Rb5,Qa3,Bd4,Ne4+,Bxe4,fxe4,Qxe4,Rfd8,Qe5,Rxd4,Qxd4,Qxa2,Qd3', 'Bc4,Ra5,Qxa5', 'https://lichess.org/training/2Qmp0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2QNDq', 'Rapid', 'Aktaruzzaman', 1845, 'toichos', 1917, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Nxe4,d5,Bb5,dxe4,Bxc6+,bxc6,Nxe5,Qf6,Nc4,Ba6,Ne3,Rd8,c4,Qd4,Qa4,Bb7,O-O,Be7,Re1,Qe5,Nd5,O-O,Nxe7+,Qxe7,Qxa7,Ba8,Qe3,Rfe8,f3,Rd3,Qxe4', 'Qc5+,Kf1,Rxe4', 'https://lichess.org/training/2QNDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Qo35', 'Rapid', 'cahformulajedan', 1789, 'IIILORDIII', 1778, 'd4,c6,e4,d5,exd5,cxd5,c4,e6,Nc3,Nc6,Nf3,Bb4,a3,Bxc3+,bxc3,Qa5,Bd2,Nf6,Bd3,O-O,O-O,Bd7,Qc2,Ne7,cxd5,Qxd5,c4,Qh5,Ne5,Bc8,Bb4,Re8,Rae1,Nf5,Bc3,Ng4,h3,Nxe5,Rxe5,Bd7,g4,Qxh3,gxf5,Qg4+,Kh1,Qf3+,Kg1,exf5,Be2,Qh3,Rxe8+,Rxe8,Qd3,Qh6,f3,Qg5+,Kf2,Qh4+,Kg1,Qg3+,Kh1,Qh3+,Kg1,f4,Rf2,Re6,Rh2,Qg3+,Rg2,Qh4,d5,Rh6,Bxg7,Qh1+,Kf2,Qh4+,Kf1,Qh1+,Rg1', 'Bh3+,Ke1,Qxg1+', 'https://lichess.org/training/2Qo35');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2qOHm', 'Rapid', 'Uriyaca', 1763, 'helioluciod', 1936, 'd4,d5,c4,c5,dxc5,d4,Nf3,Nc6,e3,e5,Be2,Bxc5,exd4,exd4,O-O,Nf6,Bg5,h6,Bh4,Be6,Re1,Qd7,a3,O-O-O,b4,Bd6,Nxd4,Be5,Nxe6,Qxd1,Rxd1,Rxd1+,Bxd1,Bxa1,Nxg7,Ne4,Bg4+,Kc7,Nf5,Nd4,f3,Nxf5,Bxf5,Ng5,Nd2,Rd8,f4,Rxd2,fxg5,Bd4+,Kf1,hxg5,Bxg5', 'Rf2+,Ke1,Rxf5', 'https://lichess.org/training/2qOHm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2qP6o', 'Blitz', 'Ginogi_04', 2220, 'CM BrutneySpears', 2379, 'b3,e5,Bb2,Nc6,e3,Nf6,Bb5,Bd6,d4,exd4,exd4,O-O,Ne2,a6,Bxc6,dxc6,O-O,Re8,Ng3,Ng4,Nd2,Bxg3,hxg3,Nf6,Nf3,Bf5,c4,Bg4,Qd3,Bxf3,Qxf3,Qd7,d5,Ng4,dxc6,bxc6,Rad1,Qe6,Rd4,f5,Rdd1', 'Qh6,Qxg4,fxg4', 'https://lichess.org/training/2qP6o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2qppE', 'Rapid', 'PrashantL9', 1656, 'deepakrud', 1616, 'e4,e5,Nf3,Nc6,c4,Bc5,Nc3,d6,h3,h6,Be2,Nf6,d3,Be6,O-O,a6,b3,Ba7,Re1,O-O,Bd2,Qd7,Kh2,Nh5,Nxe5,dxe5,Bxh5,Nd4,Be3,f5,Bxd4,Bxd4,Qd2,f4,Bf3,Rf6,Ne2,Bb6,Rad1,Rg6,d4,exd4,Nxd4,Rd8,Nxe6', 'Qxd2,Rxd2,Rxd2', 'https://lichess.org/training/2qppE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2QSa1', 'Rapid', 'lutekhin', 1945, 'AliRagab', 1908, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,c5,cxd5,Nxd5,e4,cxd4,Nxd5,exd5,Qxd4,Nc6,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/2QSa1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2QsSk', 'Rapid', 'archos3', 1965, 'VANSH_AGRAWAL966', 1974, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,h3,Bxf3,Qxf3,Nf6,d4,exd4,Bg5,Ne5,Qe2,dxc3,Nxc3,h6,Bh4,g5,Bg3,Qe7,Rab1,O-O-O,b4,Bd4,Nb5,Bb6,a4,Nxc4,Qxc4,Qxe4,Rfc1,Qxc4,Rxc4,a6', 'Nxd6+,Rxd6,Bxd6', 'https://lichess.org/training/2QsSk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2QSzt', 'Blitz', 'Playfaster92', 2171, 'ankorkor', 2181, 'e4,d6,d4,g6,Nc3,Bg7,f3,c6,Be3,Nd7,Qd2,e6,h4,h6,f4,Ne7,Nf3,d5,Bd3,dxe4,Nxe4,Nb6,c4,Nf5,c5,Nd5,Bf2,h5,Ne5,Qc7,Ng5,Bxe5,fxe5,b6,Rc1,bxc5,Rxc5,Bd7,Ne4,Rb8,b3,Qb6,Qg5,Qb4+,Ke2,Nxd4+,Bxd4,Qxd4,Nd6+,Kf8,Rf1,Rh7,Qxg6,Rg7', 'Rxf7+,Rxf7,Qxf7#', 'https://lichess.org/training/2QSzt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Qt0J', 'Bullet', 'povelitelbulok', 2130, 'Sukhareva_Evgeniya', 2119, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,c6,e3,Nbd7,Qc2,a6,b3,Bd6,g4,Nxg4,Rg1,Ngf6,Rxg7,Nf8,Rg2,Ng6,Bd3,Bd7,Bd2,Qe7,e4,dxe4,Nxe4,Nxe4,Bxe4,O-O-O,O-O-O,Kb8,Kb1,f5,Bd3,Nf4,Bxf4,Bxf4,Ne5,Bxe5,dxe5,c5,Rdg1,Bc6,Rg7,Qh4,R1g3,Qxh2,Re7,f4,Rgg7,Rhg8,Rxh7,Rg1+,Kb2,Qg2,Rhg7,Qh1,Rxg1,Qxg1,Rxe6,Rh8,Rd6,Rh1,Ka3,Rh2,Be4,Rxf2,Qc3,Bxe4,e6,Qb1,Rd2,Rf3,Qe5+,Ka8', 'Rd8+,Ka7,Qxc5+,b6,Qc7+,Bb7,Qb8#', 'https://lichess.org/training/2Qt0J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2qyGN', 'Blitz', 'Frakastoro', 1847, 'beto07', 1801, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nf3,Nge7,Nc3,g6,Bb5,Bg7,d5,Ne5,Nxe5,Bxe5,O-O,O-O,f4,Bxc3,bxc3,Qb6+,Qd4,Qxb5,d6,Nc6,Qf6,e5,f5,Qd3,Bh6,Qe3+,Kh1,Qxh6,fxg6,Qxg6,Qxg6+,hxg6,h4,Kg7,h5,Rh8,g4,gxh5,g5,Kg6,Rf6+,Kg7,Raf1,Rf8,g6,a5,gxf7,Nd8,R6f5,Nxf7,Rxh5,Ra6,Rg1+,Kf6', 'Rf5+,Ke6,Rg6#', 'https://lichess.org/training/2qyGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2R3HP', 'Rapid', 'DarkPraiser', 1716, 'TrojanTi', 1789, 'e4,c5,Nf3,d6,d4,Bg4,dxc5,Qa5+,Nc3,Qxc5,Be3,Qh5,Be2,Nf6,h3,Bxf3,Bxf3,Qa5,O-O,e5,Qd2,Be7,Rfd1,Nc6,a3,O-O,b4,Qc7,b5,Na5,Nd5,Nxd5,exd5,Nc4,Qc3,Rac8,Bxa7,b6,Be2,Qxa7,Bxc4,Rc5,Qd3,Rfc8,Bb3,Rc3,Qe4,Qa5,a4,Qa8,Rd3,Rxd3,Qxd3,Rc5,Rd1,Qc8,Qf3,Bf6,Rd3,Qe8,Qe4,g6,f4,Bg7,f5,f6,fxg6,Qxg6,Qf3', 'e4,Qe2,exd3', 'https://lichess.org/training/2R3HP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2r6KA', 'Blitz', 'SA52', 1715, 'TaGiEv676', 1659, 'e4,e5,Nf3,c6,Bc4,Nf6,Nc3,Bc5,d3,d5,exd5,O-O,dxc6,Nxc6,h3,e4,dxe4,Bxf2+,Kxf2,Qb6+,Be3,Qxb2,Qe1,Qb4,Nd5,Nxe4+,Kg1,Qxc4,Nc7,Rb8,c3,Nxc3,Nd2,Ne2+,Kh2,Qd3,Bc5,Rd8,Nf3,b6,Bg1,Qd6+,g3,Nxg1,Nxg1,Qxc7,Nf3,Qd7,Rf1,Qxh3+,Kg1,Bg4,Ng5,Qh5,Ne4,Nd4,Rf2,Nf3+,Rxf3,Bxf3,Kf2,Bxe4,Qxe4,Rd2+,Kg1,Qh2+,Kf1,h6,Re1,Rbd8,Qf3,Rxa2,g4,Rdd2', 'Re8+,Kh7,Qf5+,g6,Qxf7#', 'https://lichess.org/training/2r6KA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2rb6X', 'Rapid', 'AHMEDALAZZAMI', 1924, 'al_fil', 1856, 'b3,d5,Bb2,e6,e3,Nd7,c4,dxc4,Bxc4,Ngf6,Nf3,g6,O-O,Bg7,d4,Nb6,Be2,O-O,Nbd2,Nbd5,Rc1,c6,e4,Nf4,e5,Nxe2+,Qxe2,Nd5,Ba3,Re8,Bd6,Nf4,Qe3,Nd5,Qe4,a5,Qg4,a4,Ne4,axb3,axb3,Bd7,Qh3,h6,Nc5,Nf4,Qh4,Qxh4,Nxh4,Ne2+,Kh1,Nxc1,Rxc1,g5,Nxd7,gxh4,h3,Red8,Nc5,b6,Na4,b5,Nb2,Ra2,Nd3,Rd2,Rc3,Bf8,Nb4,Bxd6,exd6,Rxd6,Nxc6,b4,Nxb4,Rd1+,Kh2,R6xd4,g3,R1d2,Nc6,Rd6,Ne5,Rxf2+,Kg1,hxg3', 'Rxg3+,Kf8,Kxf2', 'https://lichess.org/training/2rb6X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2RcsH', 'Rapid', 'afglions', 2138, 'nieznajomy22', 1907, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,dxc4,e3,Bd6,Bxc4,O-O,O-O,c5,Re1,Nc6,Qe2,cxd4,exd4,a6,Bg5,h6,Bh4,b5,Bb3,Be7,Rad1,Na5,Bc2,Bb7,Ne5,Nd5,Bxe7,Qxe7,Ne4,Rac8,Nc5,Nc4,Qd3,Nf6,Ng4,Nxb2', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/2RcsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2RhC1', 'Classical', 'Temporanje', 1905, 'Toggan', 2036, 'e4,c5,Bc4,e6,Nf3,Nc6,O-O,Nf6,e5,Ng4,Re1,Qc7,Nc3,Ngxe5,Nb5,Qb8,d4,Nxf3+,Qxf3,a6,Bf4,d6,dxc5,axb5,Bxb5,Bd7,Rad1,Be7,Bxd6,Bxd6,Rxd6,Qc7,Re4,O-O,Rh4,Ne5,Qh5,h6,Qxe5,Bxb5,Rg4,g6,Qf4,Kg7,Qd4+,Kh7,c4,Bc6,b4,Rxa2,b5,Qa5,h4,Qe1+,Kh2,Be8,h5,Qxf2,hxg6+,fxg6,Qd3,Qf5,Qg3,Qh5+,Rh4,Qxc5,Rxe6,Bf7,Qf4,Bxe6', 'Qxh6+,Kg8,Qxg6#', 'https://lichess.org/training/2RhC1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Rhdo', 'Rapid', 'chriss077', 1677, 'OjciecMateusz', 1631, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Ne7,Bg5,f6,Be3,c5,Qd2,Qb6,b3,Be6,Bd3,O-O-O,O-O,h5,a4,a5,f4,h4,f5,Bf7,Ne2,d5,e5,fxe5,Bg5,h3,g4,c4+,Be3,d4,Bf2,cxd3,cxd3,Qc6,Rac1,Bd5,Rxc6+,Nxc6,Rc1,Bb4,Qg5,Bxb3,Bg3,Rd5,Qxg7,Re8,f6,Rd7,f7,Rxf7,Qg6,Bd2', 'Rxc6+,bxc6,Qxc6+', 'https://lichess.org/training/2Rhdo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2RI7i', 'Rapid', 'Klavdi', 1920, 'fozi1971', 1908, 'e4,e6,d4,d5,Nc3,Bb4,e5,Ne7,Bd2,Nf5,Nf3,Nc6,a3,Ba5,b4,Bb6,Ne2,Ncxd4,Nfxd4,Nxd4,Nxd4,Bxd4,Bg5,Bc3+,Bd2,Bxa1,Qxa1,O-O,Bd3,f6,O-O,fxe5,Qxe5,c6,Bc3,Qf6,Qe1,d4,Bd2,e5,f4,exf4,Rxf4,Qe6,Rxf8+,Kxf8,Qf2+,Kg8,Qxd4,Bd7', 'Bc4,Kh8,Bxe6', 'https://lichess.org/training/2RI7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2riJM', 'Blitz', 'getgetgot', 1637, 'AsianTom', 1703, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,dxc4,a4,a6,e3,e6,Bxc4,Bb4,O-O,O-O,Qc2,Nbd7,Rd1,Qc7,e4,b6,e5,Ne8,Bd3,h6,Bf4,Bb7,Qe2,c5,Rac1,Qb8,dxc5,Nxc5,Bb1,f5,Nd4,Qc8,Ba2,Nc7,Qh5,Be4,Nxe4,fxe4,Qg4,Kh8,h4,Qe8,h5,Qxa4,Bc4,b5,Bxe6,N5xe6,Nxe6,Nxe6,Qxe6,Rxf4,Rd7,Raf8,Qg6,Rg8,Rcc7,Bf8', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/2riJM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2RK3y', 'Rapid', 'natik1069', 1721, 'oualidlmt1', 1679, 'd4,g6,Bf4,Bg7,e3,Nf6,Nf3,d6,Be2,Nbd7,O-O,b6,c4,Bb7,Nc3,O-O,h3,Re8,d5,Rc8,Nb5,a6,Nbd4,Nb8,Rc1,c6,dxc6,Nxc6,Nxc6,Bxc6,b3,Bb7,Nd4', 'e5,Bg5,exd4', 'https://lichess.org/training/2RK3y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2rKVI', 'Rapid', 'El-Mago-Jarocho', 1702, 'giovanis', 1762, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,Re1,Bg4,c3,Be7,d4,exd4,cxd4,O-O,h3,Bxf3,gxf3,Nh5,Bxc6,bxc6,Be3,Bg5,Kh2,Bf4+,Bxf4,Nxf4,Rg1,Qh4,Rg3,f5,Nd2,Rae8,Rc1,Nd3', 'Qb3+,d5,Qxd3', 'https://lichess.org/training/2rKVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2RN7g', 'Rapid', 'InacinPB', 1927, 'Iwan_Albert', 2011, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Nf6,Qf3,Bg4,Qg3,e6,Nb5,Qb6', 'Nc7+,Kd7,Nxa8', 'https://lichess.org/training/2RN7g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2rOH4', 'Rapid', 'filixius', 2036, 'MrNoobie', 1769, 'c4,Nf6,Nc3,g6,e4,d6,g3,Bg7,Bg2,Nbd7,h3,e5,Nge2,O-O,O-O,Nc5,d3,Be6,a4,a5,Rb1,c6,f4,exf4,Nxf4,Bd7,d4,Ne6,d5,Nxf4,Bxf4,Bc8,dxc6,Nh5,Bxd6,Re8,Kh2,bxc6,e5,Bxe5,Bxe5,Qxd1,Rbxd1,Rxe5,Rd8+,Kg7,Bxc6,Rb8,Nb5,Re2+,Kg1,Bb7,Rxb8,Bxc6,Nd4', 'Rg2+,Kh1,Nxg3#', 'https://lichess.org/training/2rOH4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2roYl', 'Rapid', 'bolehmasuk', 1934, 'Andresma11', 1896, 'Nf3,d5,g3,Nf6,Bg2,h6,O-O,Bf5,d3,c6,b3,e6,Bb2,Nbd7,Nbd2,Be7,Re1,O-O,h3,Bh7,e4,dxe4,Nxe4,Nxe4,dxe4,Nc5,Nd2,Re8,Qe2,Bf6,e5,Be7,Nc4,Qc7,Rad1,Rad8,Nd6,Rf8,Rd2,Nd7,Red1,Nb6,c4,Nc8,c5,Bg5,f4,Be7,b4,a6,a4,Na7,Qe3,Nc8,Bc3,Na7,Bf3,Nc8,Kh1,Na7,Rg1,Nc8,Rh2,Na7,h4,Nc8,g4,Bxd6,exd6,Qd7,g5,h5,Bxh5,Kh8,Bf3,b6,h5,f6,h6,g6,Bxf6+,Rxf6,Qe5,Kg8,Qxf6,Rf8,Qg7+,Qxg7,hxg7,Kxg7,Bxc6,Bg8,Bd7,e5,fxe5', 'Bd5+,Rhg2,Rh8+,Bh3,Rxh3#', 'https://lichess.org/training/2roYl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2rpmt', 'Blitz', 'CM Henry_Onyekuru_21', 2371, 'Ardenno', 2039, 'Nf3,d5,c4,c6,g3,Nf6,Bg2,g6,cxd5,cxd5,O-O,Bg7,d4,O-O,Nc3,Nc6,Bf4,Bf5,Rc1,Rc8,b3,Qb6,Na4,Qa5,Bd2,Qd8,e3,Ne4,Re1,b6,Nh4,Nxd2,Nxf5,Nxb3,Rxc6', 'Rxc6,Qxb3,gxf5', 'https://lichess.org/training/2rpmt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2RPn9', 'Rapid', 'hraac', 2331, 'GrauRoberto', 2085, 'e4,g6,d4,Bg7,Nc3,a6,a4,d6,h3,Nd7,f4,c5,d5,Bxc3+,bxc3,Ngf6,Qf3,O-O,c4,e5,f5,Ne8,g4,gxf5,gxf5,Qh4+,Kd1,Kh8,Bd3,Nef6,Ne2,Rg8,Be3,b6,Kd2,Bb7,Rab1,Rad8,Rbg1,Rxg1,Rxg1,Rg8,Rxg8+,Nxg8,Qg2,h6,Ng1,Ndf6,Ne2,b5,axb5,axb5,Nc3,b4,Nb5,Ne8,Nxd6,Nxd6,Bxc5,Qd8,Bxb4,Nf6,c5,Ndxe4+,Bxe4,Bxd5,Bxd5,Nxd5,Qe4,Nxb4+,Kc3,Nd5+,Kc4,Ne7,Qxe5+,Kh7,f6,Nc6', 'Qe4+,Kh8,Qxc6', 'https://lichess.org/training/2RPn9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2RPYe', 'Rapid', 'maslend', 1687, 'hossein_45_iran', 1705, 'b3,e5,Bb2,d6,e3,c5,Bb5+,Bd7,Bxd7+,Qxd7,Nc3,Qd8,Nd5,Nf6,c4,a6,Ne2,Be7,O-O,O-O,a3,h6,b4,cxb4,axb4,Nbd7,b5,axb5', 'Rxa8,Qxa8,Nxe7+', 'https://lichess.org/training/2RPYe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2rqHB', 'Classical', 'Mvprookie', 1669, 'Dautresale', 1695, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Bd6,c5,Be7,Bf4,Nc6,e3,Nh5,Bd3,Nxf4,exf4,O-O,Qc2,h6,O-O,Nb4,Qe2,Nxd3,Qxd3,a5,a3,b6,b4,bxc5,b5,cxd4,Nxd4,Bf6,Rac1,Qd6,Qe3,Qxa3,Nxd5,Qxe3,Nxf6+,gxf6,fxe3,e5,Nc6,Bb7,fxe5,Bxc6,Rxc6,fxe5,Rxc7,a4,b6,Rfb8', 'b7,Rxb7,Rxb7', 'https://lichess.org/training/2rqHB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2RsVX', 'Rapid', 'DanyloN', 1690, 'MscSLvanderBoom', 1663, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,Nc6,O-O,Na5,Bd3,c5,Nb3,Nc6,Re1,a6,Nd5,Nxd5,exd5,Ne5,Be4,O-O,Bf4,Bf6,Bxe5,Bxe5,c3,Qh4,h3,f5,Bd3,f4,Qf3,Rf6,Nd2,Rh6,Bf1,Bg4', 'Qxg4,Qxg4,hxg4', 'https://lichess.org/training/2RsVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2RUC8', 'Rapid', 'sureshbala1970', 1686, 'Alipakdelan44', 1643, 'e4,e5,Nf3,Nc6,Nc3,Bb4,Nd5,Ba5,Bc4,Nce7,O-O,d6,d3,Be6,Bg5,f6,Bh4,Bxd5,Bxd5,Nxd5,exd5,Ne7,c4,O-O,a3,Nf5,b4,Bb6,a4,a5,b5,Nd4,Nxd4,Bxd4,Rc1,Qe8,Kh1,c6,dxc6,bxc6,Re1,cxb5,cxb5,Qg6,Rc6,Rfc8,Rxd6,Qh6,Bg3,Rc3,Qf3,Rc1,Qxa8+,Kf7,Qd5+,Kg6,Qe4+,Kf7,Rg1', 'Rxg1+,Kxg1,Qc1+,Qe1,Qxe1#', 'https://lichess.org/training/2RUC8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Rx0V', 'Rapid', 'hiddi98', 1645, 'realhemantsharma', 1633, 'e4,d6,d4,g6,Nf3,Nf6,Nc3,Bg7,Be3,O-O,Qd2,Nbd7,Bh6,c5,Bxg7,Kxg7,e5,dxe5,dxe5,Ng4,O-O-O,Ndxe5', 'Qxd8,Rxd8,Rxd8', 'https://lichess.org/training/2Rx0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2RYMd', 'Classical', 'YungTzar', 1767, 'odai-k', 1792, 'd4,Nf6,c4,e6,Nf3,Be7,Nc3,d5,Bf4,dxc4,e4,c5,d5,exd5,exd5,Bf5,Bxc4,Bd6,Qe2+,Qe7,Qxe7+,Bxe7,d6,Bd8,Ne5,Be6,Bb5+,Nbd7,O-O,O-O,Nxd7,Nxd7,Rfe1,a6,Ba4,b5,Bc2,Bf6,Ne4,Bxb2,Rab1,Bd4,a4,b4,Ng5,Ba2,Rbd1,g6,Nf3,Bc3,Re7,Be6,Ng5,Bf6', 'Nxe6,fxe6,Rxd7', 'https://lichess.org/training/2RYMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2S7Yr', 'Rapid', 'Kygorn', 1862, 'ckjamal', 1881, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,d5,Nxd5,Nxd5,exd5,Qxd5,dxe5,Qxd1+,Kxd1,Bg4,Bf4,O-O-O+,Ke1,Bxf3,gxf3,Bc5,Bh3+,Kb8,Bg3,Rhe8,Rd1,Rxd1+,Kxd1,Nxe5,f4,Rd8+,Kc1,Nf3,Bg2,Nd4,Rd1,Re8,Bd5,f6,c3,Nf5,b4,Bb6,a4,a5,b5,Re2,Rd2,Re1+,Kc2,Nxg3,fxg3,Bg1,h3,Be3,Rd1,Re2+', 'Kd3,Rh2,Kxe3', 'https://lichess.org/training/2S7Yr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2S8RD', 'Blitz', 'Woxel', 1662, 'Polentxi', 1619, 'e4,d5,exd5,Nf6,d4,g6,Nf3,Bg7,c4,c6,dxc6,Nxc6,Nc3,Bg4,Be3,Qb6,b3,O-O-O,Be2,Bxf3,Bxf3,Nxd4,Bxd4,Rxd4,Qc2,Rhd8,O-O,Rd2,Qc1,e5,Nd5,R2xd5,cxd5+,Kb8,Qd2,e4,Be2,Nxd5,Rad1,e3,fxe3,Bh6,Kh1,Bxe3,Qd3,Bg5,Bf3,Ne3,Qe2,Rxd1,Rxd1,Nxd1,Qxd1,Qf2,Bg4,Qxa2', 'Qd6+,Ka8,Qf8+,Bd8,Qxd8#', 'https://lichess.org/training/2S8RD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2s8WH', 'Rapid', 'Tateus', 1725, 'giuma62', 1724, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,dxe5,Nxe5,Bxd7+,Nxd7,O-O,Ngf6,Re1,Be7,b3,O-O,Bb2,Nc5,e5,dxe5,Nxe5,Bd6,Nc4,Re8,Rxe8+,Nxe8,Qd4,Ne6,Qd3,Qe7,Nba3,Rd8,Qf3,Qh4,h3,Qf4,Qxf4,Bxf4,Re1,a6,Ne3,h6,Bc1,b5,Nb1,Nf6,Nf1,Bxc1,Rxc1,Nd4,Kh1,Re8,c4,c6,cxb5,cxb5,Nbd2,Re2,Kg1,Re6,Rd1,Rc6,Ne4', 'Ne2+,Kh2,Nxe4', 'https://lichess.org/training/2s8WH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2sDeS', 'Rapid', 'flaga', 1839, 'Eberluduena', 2068, 'e4,e5,Nf3,Nf6,d4,d5,dxe5,Nxe4,Bd3,Nc5,Nc3,Nxd3+,Qxd3,c6,Bg5,Be7,Bxe7,Qxe7,O-O-O,Na6,h4,Nb4,Qd4,Bf5,Rd2,h6,g4,Be6,a3,Na6,g5,Nc7,Qf4,O-O-O,gxh6,gxh6,Nd4,Rdg8,Nxe6,Nxe6,Qh2,Rg4,f3,Rf4,Qf2,Kb8,Ne2,Ra4,f4,Nc5,Rd4,Ne4,Qe3,Rxd4,Nxd4,Rg8,Nf5,Qe6,Nd4,Qg4,Kb1,Qg2,Rd1,Rg3,Qe1,Qh3,f5,Qxh4,e6,fxe6,fxe6,Qe7', 'Nf5,Qxe6,Nxg3', 'https://lichess.org/training/2sDeS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2sdnb', 'Blitz', 'sylvlondon', 1963, 'rabenau29', 1962, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Nd5,Nxd5,exd5,Nb8,a4,Be7,Be2,O-O,O-O,a6,Na3,f5,b4,Nd7,Bb2,Bf6,c4,a5,Nb5,axb4,Nxd6,Nc5,Nb5,Bd7,d6,Bxb5,Qd5+,Kh8,axb5,Rxa1,Rxa1,b6,Bxe5,Bxe5,Qxe5,Re8,Qd5,Rxe2,Kf1,Re8,Ra7,Qg5,g3,Qc1+,Kg2,f4,Ra8,f3+,Qxf3,Qe1', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/2sdnb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2SEg8', 'Blitz', 'solidint1', 1585, 'LearningOne', 1644, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Be2,Bf5,O-O,e6,d4,Be7,Be3,O-O,Bd3,Bxd3,Qxd3,Nd5,Nxd5,Qxd5,c4,Qf5,Qxf5,exf5,Rac1,Nd7,Ne1,g5,f4,g4,Nd3,f6,b3,Kg7,g3,h5,Kg2,Rh8,h3,h4,Rh1,hxg3,Kxg3,Rag8,Nf2,Kf7,hxg4,fxg4,Rxh8,f5,Rxg8,Kxg8,Rh1,Kg7,Nd3,b6,Ne5,Nf6,a4,Bb4,Rd1,Ne4+,Kh4', 'Be7+,Kh5,Ng3#', 'https://lichess.org/training/2SEg8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2sEUX', 'Rapid', 'Dunnionrings', 1623, 'Chumbivilcas', 1699, 'e4,c5,Nf3,Nc6,Bc4,d6,d4,cxd4,Nxd4,Nxd4,Qxd4,e5,Qd5,Be6,Qb5+,Qd7,Qxd7+,Bxd7,Be3,Nf6,Nc3,Be7,Nd5,Nxd5,Bxd5,Bc6,Bxc6+,bxc6,O-O,O-O,c4,c5,b3,h6,f4,f5,fxe5,dxe5,exf5,Bf6,Bxc5,Rfe8,Rae1,Kf7,a4,a6,Re3,Rac8,Ba3,Rcd8,Rff3,Rd1+,Rf1,Rd2,Bc1,Rd7,Kf2,Red8,Kf3,Rd3,Rxd3,Rxd3+,Ke2,Rxb3,Rf3,Rb4,c5,Rxa4,Rc3,e4,c6', 'Bxc3,c7,Rc4', 'https://lichess.org/training/2sEUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2sEY6', 'Rapid', 'FOX76', 1899, 'amc02', 1887, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,d5,cxd5,Nxd5,e3,c5,Nxd5,Bxd2+,Qxd2,Qxd5,Nf3,Nc6,Bb5,cxd4,Bxc6+,bxc6,Qxd4,Ba6,Qxg7,O-O-O,Qc3,Qb5,Nd4,Rxd4,Qc2,Rc4,Qd2,Rd8,a4,Qb3,Qa5,Bb7,O-O,Qb6,Qe5,Rg8,a5,Qc7,Qh5,Rcg4,g3,c5,Rac1,Qc6', 'Rxc5,Rc4,Rxc6+', 'https://lichess.org/training/2sEY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2SFay', 'Blitz', 'R9x', 1754, 'Konstantin_25', 1712, 'd4,d5,c4,Nf6,Qc2,c6,Nc3,a6,e3,Qd7,Bd3,Qd8,Bd2,e6,Nge2,h6,O-O,Bb4,c5,Bxc3,Bxc3,O-O,Rfe1,Nh7,Rad1,Bd7,Bxh7+,Kh8,Bd3,f5,Nf4,Be8,Be2,Bf7,Nd3,Nd7,Qb3,Rb8,Qc2,Nf6,Ne5,Nd7,Nxf7+,Rxf7,Bh5,Rf8,f3,Nf6,g4,fxg4,Bxg4,Qe8,Bh3,Qh5,Qe2,Qxh3,e4,dxe4,fxe4,Qg4+,Qxg4,Nxg4,Rd3,h5,Rg3,Rf7,Rd1,Rbf8,d5,cxd5,exd5,exd5,Rxd5', 'Rf1+,Kg2,R8f2+,Kh3,Rxh2#', 'https://lichess.org/training/2SFay');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2SH1N', 'Rapid', 'prezofchess', 1835, 'alex4281', 1965, 'e4,e6,f4,a6,Bc4,b5,Bb3,c5,c3,c4,Bc2,d5,exd5,exd5,d3,Nc6,dxc4,bxc4,Nf3,h6,O-O,Be6,Ne5,Nxe5,fxe5,Bc5+,Kh1,Ne7,Qf3,Qd7,Qg3,g6,Nd2,Rb8,b3,cxb3,Nxb3,Ba7,Nd4,Bxd4,cxd4,g5,Ba3,g4,Bxe7,Qxe7,Ba4+,Kd8,Bb3,h5,Qd3,a5,Qa6,Qc7,Rac1,Qb6,Qe2,h4,Qe3,Qb4,Qg5+,Ke8,Qg7,Rf8,Rfd1,a4,Bc2,h3,gxh3,gxh3,Rb1,Qc3,Rxb8+,Kd7,Qxf8', 'Qf3+,Kg1,Qg2#', 'https://lichess.org/training/2SH1N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2SJCp', 'Rapid', 'Bikovic', 1679, 'MarianoItaliano', 1635, 'e4,c5,Nc3,Nc6,Bc4,e5,Nf3,Nf6,d3,h6,Be3,d6,h3,Be7,g4,Bd7,g5,hxg5,Nxg5,O-O,f3,Na5,Bxf7+,Rxf7,Nxf7,Kxf7,f4,c4,fxe5,dxe5,Nd5,Nxd5,exd5,cxd3,Qh5+,Kg8,cxd3,Bb4+,Ke2,Qe8,Qg5,Be7,Qxe5,Bf6,Qg3,Bxb2,Rab1,Bd4,Rhg1,Qh5+,Kd2,Bxe3+,Kxe3,Re8+,Kd2,Qh6+,Kc3,Rc8+,Kb4,b6,Rbc1,Qd2+,Ka3', 'Rc3+,Rxc3,Qxc3#', 'https://lichess.org/training/2SJCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Sk3V', 'Rapid', 'AlexDC15', 1775, 'dixiaosongli', 1769, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nc6,Bc4,e6,d4,Nf6,Bg5,Be7,O-O,O-O,Be3,b6,Qd2,Ng4,Bf4,Bd6,Bg5,f6,Bh4,Kh8,h3,Nh6,Rad1,Nf5,d5,Ne5,Nxe5,Bxe5,Bg3,Nxg3,fxg3,Bb7,Qe3,c5,dxc6,Qc7,cxb7,Qxb7,Bxe6,Rad8,Rxd8,Rxd8,Bg4', 'Bd4,Qxd4,Rxd4', 'https://lichess.org/training/2Sk3V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2sL0w', 'Classical', 'tardigrade88', 1835, 'CLSmith15', 1844, 'd4,Nf6,Nc3,d5,Bg5,h6,Bh4,Bf5,e3,e6,Nf3,a6,Bd3,Bg4,h3,Bh5,O-O,c5,dxc5,Bxc5,g4,Bg6,Bxg6,fxg6,Kg2,g5,Bg3,O-O,Ne5,Nbd7,Qd3,Nxe5,Bxe5,Qe7,f4,Nd7,Bd4,Bd6,Ne2,gxf4,exf4,e5,fxe5,Nxe5,Qe3,Rae8,Rxf8+,Rxf8,Ng3,Rf3,Qe2,Rxg3+,Kxg3,Nc6+,Kf2,Bg3+,Kf1,Qxe2+,Kxe2,Nxd4+,Kd3,Ne6,Ke3,d4+,Kf3,Bf4,Re1,Be3,c3,Ng5+,Kg3,Kf7,h4,Ne4+,Kf3,Nd2+,Ke2,Nc4,cxd4,Bxd4,b3,Ne5,Rd1,Bc5', 'Rd5,Be7,Rxe5', 'https://lichess.org/training/2sL0w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2sMnE', 'Rapid', 'thomasleroy1805', 2069, 'cemsevincc', 2105, 'd4,d5,c4,Nf6,Nc3,c6,Bg5,Bf5,Nf3,e6,cxd5,cxd5,e3,a6,Bd3,Bg6,O-O,Nc6,Rc1,Bd6,a3,h6,Bh4,Bh5,e4,Nxd4,Re1,Bf4,e5,Bxc1,exf6,g5,Qxc1,Bxf3,Bg3,Bh5,Qe3,Nc6,Na4,O-O,h4,d4,Qd2,Qxf6,hxg5,hxg5,Nc5,Qg7,b4,f5,Nd7,Qxd7,Be5,Nxe5,Rxe5,Bg6,Qxg5,Kg7,g4,Rf6,gxf5,exf5,f4,Rh8,Qg3,Qc6,Qg2,Qc1+,Qf1,Qd2,Qe2,Qc1+,Kg2,Qxf4,Re7+,Rf7,Rxf7+,Kxf7,Bc4+,Kf6,Qe6+,Kg5,Qe7+,Kg4', 'Be2+,Qf3+,Bxf3+', 'https://lichess.org/training/2sMnE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2soJx', 'Rapid', 'rudiramawulan', 1791, 'LampGirl', 2044, 'e4,d6,f4,g6,Nc3,Bg7,Nf3,c5,Be2,Nc6,O-O,Nf6,Bc4,O-O,a3,Nxe4,Bxf7+,Rxf7,Nxe4,a5,d3,d5,Nxc5,Qb6,Be3,d4,Na4,Qa7,Bd2,b5,Ng5,Rf8,Qf3,Rf6,Qd5+,e6,Qxc6,bxa4,Qxa4,Bd7,Qb3,Rb8,Qa2,h6,Ne4,Rf5,Rae1,Kh7,g4,Rfb5,Rb1,Bc6,Qxe6,Bd5,Qd6,Bxe4,dxe4,d3+,Kh1,dxc2,Rbc1,Rxb2,f5,gxf5,gxf5,Qd4,Qg6+,Kh8,Bxh6', 'Qxe4+,Qg2,Qxg2+,Kxg2,Bxh6', 'https://lichess.org/training/2soJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2SOts', 'Rapid', 'gpanos13', 1826, 'karunada', 1780, 'd4,d5,Bf4,Nc6,e3,e6,Nf3,Nf6,Bd3,Be7,Nbd2,O-O,h3,Re8,O-O,h6,c4,Nh5,Bh2,Nf6,cxd5,Nxd5,Rc1,Bf6,Bb5,Bd7,Ne4,a6,Nxf6+,Qxf6,Bxc6,Bxc6,Bxc7', 'Nxc7', 'https://lichess.org/training/2SOts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2SSGl', 'Rapid', 'bribon', 1976, 'Maqqa', 1985, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,d6,d4,O-O,Nf3,c5,O-O,Nc6,d5,Nb8,e4,e6,Re1,a6,h3,Ne8,e5,dxe5,Nxe5,Nd6,Qd3,exd5,cxd5,Bf5,Qf3,Re8,Bf4,Nd7,Nxg6,Bxc3,Rxe8+,Nxe8,Nh4,Bxh3,Bxh3,Bxb2,Rb1,Ne5,Qb3,Bd4,Bxe5,Bxe5,Qxb7', 'Rb8,Qxb8,Bxb8', 'https://lichess.org/training/2SSGl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2SSlN', 'Rapid', 'freemann', 1848, 'sercasla', 1787, 'Nf3,d5,d4,Nc6,g3,Nf6,Bg2,Bf5,O-O,e6,c4,dxc4,Na3,Bxa3,bxa3,O-O,Nh4,Bg6,Bxc6,bxc6,Nxg6,hxg6,Bg5,Qd5,Bf4,g5,Bxc7,Qd7,Ba5,Rab8,Bb4,Rfe8,Bc5,a6,e3,Ne4,Bb4,f5,f3,Nf6,Rc1,Qd5,Qe2,a5,Bc5,Nd7', 'e4,Nxc5,exd5', 'https://lichess.org/training/2SSlN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2svbY', 'Blitz', 'yons2', 2037, 'lighting33', 1747, 'd4,d5,c4,e6,Nc3,Nf6,e3,Be7,Nf3,O-O,Be2,a6,a3,b6,O-O,Bb7,Nxd5,exd5,cxd5,Bxd5,Bd2,Nbd7,Qc2,Rc8,Bd3,h6,e4,Bb7,h3,c5,d5,Bd6,Rae1,Ne5,Nxe5,Bxe5,Bc3,Bxc3,bxc3,Nd7,c4,Ne5,Be2,b5,f4,Nxc4,Bxc4,bxc4,Qxc4,Qb6,Rb1,Qa7,a4,Rb8,a5,Bc8,Kh1,Rxb1,Rxb1,Bd7,Rb6,Bb5,Qxc5,Qd7,e5,Qf5,Qd4,Qb1+,Kh2,Rc8,d6,Rc4,Qe3,Qc2,d7,Bxd7,Rd6,Bc6,Qg3,Rc3,Qg4,h5', 'Rd8+,Be8,Rxe8+,Kh7,Qxh5#', 'https://lichess.org/training/2svbY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2SWCq', 'Rapid', 'Wassermann42', 1809, 'cthtuby', 1786, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Bd3,Bc5,O-O,Bg4,Re1,O-O,Bxe4,dxe4,Rxe4,Bf5,Re1,Nc6,Nc3,Nb4,d3,Qf6,Be3,Bd6,a3,Nc6,Qd2,h6,Nd5,Qxb2,Bxh6,gxh6,Qxh6,Qg7', 'Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/2SWCq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2sx1e', 'Blitz', 'juancong', 1603, 'Negro_Arbizu', 1681, 'd4,Nf6,g3,g6,Nf3,Bg7,Bg2,O-O,Nbd2,d5,c3,Nbd7,O-O,e6,Re1,c5,e4,cxd4,Nxd4,dxe4,Nxe4,Nxe4,Bxe4,Nc5,Bg2,Rb8,Be3,Bd7,Qd2,a6,Bh6,Rc8,Bxg7,Kxg7,Qe3,Qf6,b4,Na4,Bxb7,Rc7,Bxa6,Ra8,Bb5,Rxc3,Qe4,Bxb5,Nxb5,Rcc8,Nd6,Nc3,Qb7,Rcb8,Qc6,Rxa2,f4,Ne2+,Kh1,Rxa1,Rxa1,Qxa1+,Kg2,Rxb4,Qf3,Nc3,f5,Rb2+,Kh3,exf5,Qxc3+,Kh6', 'Nxf7+,Kh5,Qf3#', 'https://lichess.org/training/2sx1e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2SXSL', 'Rapid', 'perseguidordereis', 1938, 'Italo_Carlsen', 1919, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,d6,Qd2,Nf6,O-O-O,O-O,f3,Qa5,Kb1,Rb8,g4,Nb4,Bh6,Bd7,Bxg7,Kxg7,g5,Nh5,a3,Nc6,Nb3,Qc7,Nd5,Qd8,f4,Rc8,f5,e6,f6+,Kg8,Ne7+,Nxe7,Qxd6,Nc6,Qxd7,Qxd7,Rxd7,b6,Bb5,a5,a4,Nb4,c3,Nc6,Rd6,Na7,Rxb6,Nxb5,Rxb5,Rc4,Rxa5,Rxe4,Nc5,Re5,Nb7,Re4,Nd6,Rg4,b4,Nf4,h3,Rg3,Kb2,Nd5,Rc5,Rxg5,c4,Rg2+,Kb3,Rg3+,Kc2,Nxb4+,Kd2', 'Rd3+,Ke2,Rxd6', 'https://lichess.org/training/2SXSL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2t0vr', 'Blitz', 'ViolinZero', 1502, 'critch', 1541, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Nc6,Nf3,Qg6,d4,Qxg2,Rg1,Qh3,Rg3,Qh5,Ne5,Qxh2,Nxc6,bxc6,Bf4,Qh1+,Bf1,Bf5,Qe2,e6,O-O-O,Bd6,Bxd6,cxd6,Bg2,Qh6+,Kb1,d5,Qa6,Ne7,Rh1,Qd2,Rxg7,Qxc2+,Ka1,Qxf2,Qb7,Rc8,Na4,Bg6,Nc5,Qxg2', 'Qd7+,Kf8,Nxe6+,fxe6,Qxe7#', 'https://lichess.org/training/2t0vr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Tb6x', 'Blitz', 'sharghireza', 1774, 'majuniorx', 1688, 'd4,d5,Nc3,Bf5,f3,e6,e4,dxe4,fxe4,Bg6,Nf3,Nf6,Bd3,Bh5,Bg5,Be7,Bb5+,c6,Bc4,Nbd7,Qe2,O-O,O-O-O,b5,Bd3,a5,h3,a4,g4,Bg6,e5,Nd5,Bxg6,fxg6,Bxe7,Qxe7,Nxd5,exd5,Rdf1,b4,Kb1,b3,cxb3,axb3,axb3,Nb6,Rc1,Qa7,Rhf1,Rf4,Rxc6,Re4,Qb5,Rb8,Qxb6,Rxb6', 'Rc8+,Kf7,Ng5+,Ke7,Rf7#', 'https://lichess.org/training/2Tb6x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2TbD3', 'Blitz', 'jozef1234x', 2044, 'Jakbot', 1886, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,O-O,Bd3,h6,Bh4,c6,cxd5,exd5,Qc2,Nh5,Bxe7,Qxe7,Nf3,Bg4,Ne5,Be6,O-O,Nd7,f4,Nxe5,dxe5,g6,Bxg6,fxg6,Qxg6+,Ng7,Qxh6,Rf5,g4,Raf8,gxf5,Rxf5,Rf3,Rh5,Qg6,Qh4,Qg3,Qe7,Qg2,Kh7,Ne2,Nf5,Rh3,Qf7,Rxh5+,Qxh5,Ng3,Qg4,Nxf5,Qxf5,Qg5,Qh3,Rf1,Qxe3+,Rf2,Qe1+,Kg2,Qe4+,Kg3,Qe3+,Rf3', 'Qg1+,Kh4,Qxh2+,Rh3,Qxh3#', 'https://lichess.org/training/2TbD3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2tCrw', 'Classical', 'isucur', 1835, 'Galina74', 1812, 'e4,e6,Nf3,c5,d4,h6,d5,d6,dxe6,Bxe6,Nc3,Nc6,h3,Nf6,Bf4,Be7,Bb5,O-O,Bxc6,bxc6,Qd2,Qc7,Bxh6,Rfd8,Bf4,Qb6,b3,d5,e5', 'Ne4,Nxe4,dxe4,Qe2,exf3', 'https://lichess.org/training/2tCrw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Td3q', 'Rapid', 'Baluyot1', 1824, 'khaidemsubirsingha', 1926, 'd4,f5,c4,Nf6,Nc3,d6,Nf3,e6,Bg5,Nbd7,e3,Be7,h3,O-O,Qc2,c6,O-O-O,a6,Kb1,b5,c5,dxc5,dxc5,Bxc5,Ne5,Qc7,Nxd7,Nxd7,g4,Nf6,gxf5,exf5,Bd3,Kh8,Ne2,Ne4', 'Bxe4,fxe4,Qxc5', 'https://lichess.org/training/2Td3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2tdPm', 'Rapid', 'Mrzizo09', 1802, 'frantic00', 1784, 'e3,d5,Qf3,Nf6,Nc3,Bg4,Qg3,e6,Nb5,a6,Nxc7+,Kd7,Nxa8,Bd6,Qh4,Nc6,Qg5,g6,Nb6+,Qxb6,Qxf6,Rf8,Qg7,h5,Bd3,Ke7,Bxg6,Be5,Qh7,Kd6,Bxh5,Rh8,Qxf7', 'Bxh5,Qxh5,Rxh5', 'https://lichess.org/training/2tdPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2tdZd', 'Rapid', 'jf3984', 1607, 'hdg453kdj', 1621, 'e4,c5,Nf3,e6,Bb5,Nf6,d3,a6,Bc4,d5,Bb3,dxe4,dxe4,Qxd1+,Kxd1,Be7,Nc3,O-O,Be3,b6,Ke2,a5,a4,Ba6+,Nb5,Nc6,Rhd1,Nxe4,Kf1,Nf6,Kg1,Rac8,Bf4,e5,Nxe5,Nxe5,Bxe5,c4,Ba2,Rc5,Bxf6,Bxf6,Nd6,Rc6,c3,Be5,Nf5,Re8', 'Ne7+,Kf8,Nxc6', 'https://lichess.org/training/2tdZd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2tfuO', 'Blitz', 'OvcharenkoAV1965', 1830, 'BimaSurabaya', 1802, 'd4,d5,e3,c6,Bd3,Nf6,Nd2,Bg4,f3,Bh5,Nh3,Bg6,Qe2,Nbd7,c3,e6,e4,dxe4,fxe4,Qc7,e5,Nd5,O-O,Be7,Nf4,Nxf4,Rxf4,Bg5,Rf1,Bh6,Nf3,O-O,Bxh6,gxh6,Qe3,Kg7,Nh4,Rab8,Be4,f5,exf6+,Nxf6,Bxg6,hxg6,Qxe6,Rbe8,Qh3,Nh5,Rf2,Nf4,Qg3', 'Ne2+,Rxe2,Qxg3,Re7+,Rxe7', 'https://lichess.org/training/2tfuO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ThZ1', 'Blitz', 'TERTER123', 1967, 'sacakaka098', 1958, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nd2,Nc6,Nxc6,bxc6,Be2,d5,exd5,cxd5,O-O,Bd6,Bf3,O-O,Re1,Rb8,c4,Qa5,cxd5,exd5,Nb3,Qb5,Be3,Be6,Bxa7,Rb7,Bd4,Be7,Rc1,Ra8,Bc5,Bxc5,Nxc5,Rc7,Nxe6,Rxc1,Qxc1,fxe6,Rxe6,d4,Bxa8,d3,Qc8+,Kf7,Re1,d2,Qe6+,Kg6,Be4+,Kh6,Qh3+,Nh5,Qe6+,Nf6,Rd1,Qe2,Qh3+,Nh5,Qf3', 'Qe1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/2ThZ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2TkDQ', 'Blitz', 'Ikel', 1717, 'aron3000', 1714, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bd2,Bd7,Ne2,Nge7,g3,g6,Bg2,Bg7,O-O,O-O,Be3,Nf5,dxc5,Nxe3,fxe3,Bxe5,b4,a5,Nd4,axb4,cxb4,Nxb4,Nd2,Rxa2,Rxa2,Nxa2,Qb3,Qa8,Ra1,Ba4,Qxa2,Qa5,N2f3,Ra8,Nxe5,Qxc5,Qf2,Qe7,Bf1,Qe8,Bb5,Bxb5,Rxa8,Qxa8,Nxb5,Qa1+,Kg2,Qxe5,Nd4,Qd6,Qb2,Qc7,Nf3,Qc6,Ng5,d4+,Kf2,dxe3+,Kxe3,Qc5+,Kf4,Qf5+,Ke3,Qxg5+,Kf3,Qd5+,Kf2,b5,h4,Qc5+,Kf1,b4,Kg2,Qc3,Qf2,b3,Qb6,Qc2+,Kh3,b2,Qb8+,Kg7,Qe5+,f6,Qxe6,b1=Q,Qe7+,Kh6', 'Qf8+,Kh5,g4#', 'https://lichess.org/training/2TkDQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2tLlC', 'Classical', 'Rikudou2018', 1700, 'Pietschi', 1751, 'e4,e6,Nf3,b6,d4,d5,Bd3,Bb7,e5,c5,c3,h6,Be3,f6,Nbd2,Nd7,O-O,f5,Qa4,Ne7,dxc5,Bc6,Bb5,Qc7,Bxc6,Nxc6,cxb6,Nxb6,Qb5,Kf7,Bd4,Be7,Rfc1,Rab8,Qe2,Bg5,h4,Bf4,Rc2,Nxd4,Nxd4,Qxe5,Qh5+,g6,Qd1,Rhc8,N2f3,Qf6,Re2,Re8,Nb5,Rb7,g3,Bb8,Nbd4,Nc4,Qc1,e5,Nb3,e4,Qxh6,exf3', 'Qh7+,Qg7,Qxg7+,Kxg7,Rxe8', 'https://lichess.org/training/2tLlC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2tpz2', 'Rapid', 'jameskov', 1728, 'juegasiempre', 1768, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,e6,h3,Be7,Qd2,O-O,O-O-O,a6,f4,Bd7,a4,Rc8,g4,e5,Nf5,Bxf5,exf5,Nb4,Qf2,Qa5,Bb6,Rxc3', 'Bxa5,Rxc2+,Qxc2', 'https://lichess.org/training/2tpz2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2TqjQ', 'Rapid', 'Valle333', 1860, 'Jaume2019', 1877, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,d6,Nf3,a6,Be2,Nf6,Nc3,Qc7,O-O,g6,h3,Bg7,Nd5,Qd8,Nxf6+,Bxf6,c3,O-O,Bh6,Re8,Qc2,b5,a3,Bb7,Rad1,Rc8,Rfe1,Qc7,Bf1,Rcd8,Qd2,Ne5,Nxe5,Bxe5,Bf4,Bg7,Bh6,d5,Bxg7,Kxg7,exd5,Rxd5,Qe3,Re5', 'Qxe5+,Qxe5,Rxe5', 'https://lichess.org/training/2TqjQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2TRhY', 'Blitz', 'Payne-in-da-Haas', 1551, 'Haraldmaster', 1616, 'd4,c5,dxc5,e5,e3,Nf6,c4,Bxc5,Nc3,d6,Nf3,Qb6,Bd3,Bb4,O-O,Bxc3,bxc3,e4,Ba3,exd3,Qxd3,Bg4,Bxd6,Bxf3,gxf3,Nc6,c5,Qd8,Qf5,Ne7,Qg5,O-O,Kh1,Re8,Rg1,Ng6,Rad1,Qa5,e4,b6,e5,Nd7,f4,f5,Qxf5,Qxc3,e6,Qf3+,Rg2,Qxd1+,Rg1,Qf3+,Rg2,Nh4', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/2TRhY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2TTa6', 'Blitz', 'KristoferAllen', 1818, 'Halothan', 1933, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,cxd5,exd5,Nf3,Nc6,Qb3,Be6,Qxb7,Bd7,Bxf6,Bxf6,Nxd5,Rb8,Nxf6+,gxf6,Qa6,Rxb2,e3', 'Nb4,Qxa7,Nc2+,Kd1,Nxa1', 'https://lichess.org/training/2TTa6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2TwYP', 'Rapid', 'igp2016', 1806, 'AVM1979', 1843, 'e4,e6,Nf3,d5,e5,c5,d4,cxd4,Qxd4,Nc6,Qa4,Qb6,Bb5,Bd7,Be3,Bc5,Bxc5,Qxc5,Nc3,a6,Bxc6,Bxc6,Qd4,Qe7,O-O,Nh6,h3,O-O,a4,f6,exf6,Rxf6,Ne5,Nf5,Nxc6,bxc6,Qd2,c5,Rfe1,Raf8', 'Nxd5,exd5,Rxe7', 'https://lichess.org/training/2TwYP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2tY9m', 'Bullet', 'Alex-20083', 1701, 'FozefyKiller', 1723, 'f4,f5,Nf3,b6,e3,Bb7,b3,Nc6,Bb2,Nf6,Bd3,g6,Bxf6,exf6,O-O,Qe7,Nc3,O-O-O,Nd5,Qe6,c4,Nb4,Nxb4,Bxb4,a3,Bd6,Qc2,Be4,Bxe4,fxe4,Nd4,Qe7,Nb5,Kb7,Nxd6+,cxd6,b4,f5,a4,Rc8,Qb3,g5,fxg5,Qxg5,a5,b5,cxb5,Qf6,Qd5+,Kc7,Rfc1+,Kd8,b6,axb6,axb6,Ke7,b7,Rb8,Ra8,Rxb7,Qxb7,Rxa8,Qxa8,Qb2,Rc8,Qc1+,Kf2,Qxd2+,Kf1,Qd1+,Kf2,Qd2+,Kg3,Qxe3+,Kh4,Qf4+,Kh5', 'Qg4+,Kh6,Qg6#', 'https://lichess.org/training/2tY9m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2U4uy', 'Rapid', 'malac512', 2070, 'guedisa', 2052, 'Nf3,Nf6,g3,c5,c4,Nc6,Bg2,g6,O-O,Bg7,d3,O-O,Nc3,d6,Bg5,h6,Bd2,Bg4,Qc1,Kh7,h3,Bxf3,Bxf3,Qd7,Kh2,Nd4,Bg2,Rab8,e3,Nf5,d4,Rfd8,d5,e6,Ne4,Nxe4,Bxe4,b5,g4,Ne7,Rb1,bxc4,Qxc4,Rxb2,Rxb2,Bxb2,Rb1,Bf6,dxe6,fxe6,Rb7,Qc8,Qc2,Kh8,Rxa7,d5,Bxg6', 'Qb8+,Kg2,Qxa7', 'https://lichess.org/training/2U4uy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2U5st', 'Classical', 'SweetSmartJatin', 1608, 'falcon4377', 1602, 'e4,c6,Nf3,d5,exd5,cxd5,Nc3,Nf6,d4,e6,Bg5,Be7,Bb5+,Bd7,Ne5,Ne4,Bxe7,Qxe7,Bxd7+,Nxd7,Nxd7,Qxd7,Nxe4,dxe4,O-O,O-O,c4,Rad8,Re1,Qxd4,Qxd4,Rxd4,b3,f5,g4,g6,Rad1,Rxd1,Rxd1,fxg4,Rd4,Rf4,Kg2,h5,h3,gxh3+,Kxh3,Rg4,a4,g5,b4,Kf7,b5,Kf6,a5,Rh4+,Kg2,Rg4+,Kf1,h4,c5,h3,f3,Rh4,Rxe4,h2', 'Rxh4,gxh4,Kg2,h1=Q+,Kxh1', 'https://lichess.org/training/2U5st');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2U64V', 'Rapid', 'The_Key', 2272, 'OccasionalBlunder', 2410, 'd4,c6,Nf3,d5,Bf4,Nf6,e3,Bf5,Nbd2,e6,Ne5,Nfd7,g4,Bg6,Nxg6,hxg6,c4,g5,Bg3,Nf6,c5,Nbd7,b4,Be7,Bd3,Kf8,Rb1,a6,a4,g6,O-O,Kg7,Qe2,Rh3,Kg2,Qh8,b5,axb5,axb5,Qh6,bxc6,bxc6,Rb7,Rh8,Rh1,Rxg3+,fxg3,Qh3+,Kg1,Bf8,Rc7,e5,Rxc6,e4,Ba6,Bxc5,dxc5,Ne5,Rc8,Nfxg4,Rxh8,Qxh8,c6,Qb8,h3,Nf6,Qb5,Qa7,Nf1,Nf3+,Kg2,Ne1+,Kf2,Nd3+,Ke2,Qe7,Qb7,Qa3,Bxd3,Qxd3+,Kf2,d4,c7,dxe3+,Nxe3,Qd2+,Kf1,Qxe3,c8=Q,Qf3+,Ke1,Qxh1+,Kd2,Qg2+,Kc3,Qxg3+,Kc4,Qd3+,Kc5,e3,Qcc7,Qf5+,Kb4', 'Nd5+,Qxd5,Qxd5', 'https://lichess.org/training/2U64V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Uc2m', 'Rapid', 'mifsud', 1768, 'michi2002', 1721, 'd4,Nf6,c4,g6,Bg5,Ne4,Nf3,Nxg5,Nxg5,e6,Nf3,Bg7,e3,Nc6,Nc3,d5,c5,Na5,Qa4+,Nc6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,Qb3,O-O,Rad1,Re8,Rfe1,e5,dxe5,Bxe5,Nxe5,Rxe5,f4,Rh5,h3,Qh4,e4,Qxf4,exd5,Bd7,Rf1,Qe3+,Rf2,Bxh3,d6,Bxg2,Qxf7+,Kh8,Qf6+,Kg8,Kxg2', 'Qh3+,Kg1,Qh1#', 'https://lichess.org/training/2Uc2m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ucgD', 'Rapid', 'Cocyt', 1890, 'pantera2001', 2025, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5c3,Nf6,Bg5,Be7,Bxf6,Bxf6,Be2,O-O,O-O,Be6,b3,Nd4,Nd5,Bxd5,cxd5,b5,Nd2,Rc8,Nf3,h6,Nxd4,exd4,Rc1,Qe7,Rxc8,Rxc8,Bg4,Ra8,Qd2,Qxe4,Bf3,Qe8,Re1,Qd7,Qe2,Rc8', 'Bg4,Qd8,Bxc8', 'https://lichess.org/training/2ucgD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2UcP8', 'Rapid', 'Hoooshi', 1606, 'chesscolombia', 2265, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,h3,Bd6,Nf3,O-O,Be3,Re8,O-O,Be6,c3,Nbd7,Nbd2,b6,Re1,c5,Nf1,c4,Bc2,Ne4,Qb1,f5,Ba4,Qf6,Qc1,f4,Bd2,Rf8,Bc2,Qg6,Kh2,Rae8,Ng1,Qg3+,Nxg3', 'fxg3+,fxg3,Bxg3+,Kh1,Nf2#', 'https://lichess.org/training/2UcP8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ud4h', 'Rapid', 'yogythtool', 1610, 'mobios', 1652, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,h3,Ngxe5,Nxe5,Nxe5,e4,d6,Bf4,f6,Bxe5,fxe5,Nc3,Be6,Be2,Be7,O-O,O-O,Nd5,Bg5,Bg4,Bf7,Bf5,c6,Ne3,Bxe3,fxe3,Bxc4,Re1,Qh4,Qxd6,Rad8,Be6+,Bxe6,Qxe6+,Kh8,Rf1,Rfe8,Qb3,Rd2,Qf7,Rg8,Rad1,Rxb2,Rd7,Qg3', 'Qxg8+,Kxg8,Rd8#', 'https://lichess.org/training/2ud4h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Ue9Z', 'Rapid', 'fernandoMI', 1774, 'restecalme', 1802, 'd4,d5,Nf3,c5,Bf4,Nc6,e3,b6,c3,Nf6,Nbd2,e6,Bd3,Bd6,Bg3,Bxg3,hxg3,c4,Bc2,a5,Ne5,Nxe5,dxe5,Ng4,Rxh7,Rxh7,Bxh7,g6,Qxg4,Qc7,f4,b5,Ke2,b4,Rh1,bxc3,bxc3,Bb7,Bxg6,Qb6,Rh8+,Kd7,Rxa8,Bxa8,Bxf7,d4,Nxc4,Qc6,Nxa5,Qxg2+,Kd3,Qf1+,Qe2', 'Be4+,Kxe4,Qxe2', 'https://lichess.org/training/2Ue9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2uH08', 'Rapid', 'Leinadag', 1680, 'Jerryyuan', 1662, 'e4,e5,Qh5,Nc6,Bb5,Nf6,Qf3,Bc5,Bxc6,bxc6,h3,d5,exd5,cxd5,Qd1,O-O,Nf3,Re8,O-O,e4,Ng5,Nd7,Nxf7,Kxf7,d4,Bb6,Qh5+,Kg8', 'Qxd5+,Kh8,Qxa8', 'https://lichess.org/training/2uH08');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2uNGi', 'Rapid', 'tohidhh', 1895, 'direstraits', 1682, 'd4,d5,c4,e6,Nf3,Nf6,e3,Nbd7,Nc3,c6,b3,Bb4,Bb2,O-O,Bd3,dxc4,bxc4,c5,O-O,Re8,Bc2,b6,Qd3,Bb7,d5,exd5,Nxd5,Bxd5,Bxf6,Nxf6,cxd5,Rc8,Rfd1,c4,Qf5,Rc5,e4,g6,Qf4,Qe7,d6,Qe6,e5,Nd5,Qg3,Bc3,Rab1,Nb4,Ba4,b5,d7,Rd8,Rd6,Bxe5', 'Rxe6,Bxg3,Re8+', 'https://lichess.org/training/2uNGi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2up56', 'Blitz', 'GilTrabajador', 2015, 'FM Los5hermanos', 2237, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,a6,Bd3,Nc6,Bg5,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd1,e6,Bxa6,bxa6,Qxd4,Be7,Qa4+,Nd7,Bxe7,Qxe7,O-O,O-O,Rfe1,Nf6,Rad1,Qb7,Qa3,Rfc8,Na4,Rxc2,b3,h6,Nc5,Qb6,Nd3,Ne4,Rf1,Qd6,Qa5,Rac8,Nb4,Qf4,Nxc2,Rxc2,Qd8+,Kh7,Qb6,Rxa2,Qe3,Qf6,g3,Qf5,Kg2,g6,Ra1,Rb2,Rxa6,Nd2,Re1,Nxb3,Rb6,d4,Qf3', 'Qxf3+,Kxf3,Nd2+', 'https://lichess.org/training/2up56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2uPJn', 'Rapid', 'pawn-x', 2057, 'Rachidelaouni', 2039, 'd4,Nf6,c4,Nc6,d5,Ne5,Qd4,d6,f4,Ng6,Nf3,c5,Qd3,e6,e4,exd5,exd5,Be7,Nc3,O-O,Be2,a6,O-O,Re8,h3,Nh5,Ng5,Nhxf4,Bxf4,Bxg5,Bxg5,Qxg5,Ne4,Qe5,Bf3,Qxb2,Nxd6,Ne5,Qe4,Nxf3+,Qxf3,Qd4+,Kh1,Rf8,Rad1,Qe5,Nxf7,Qe7,Rde1,Qxf7', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/2uPJn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Ur1Q', 'Rapid', 'Tuvshee78', 2021, 'D-chingun_01', 2202, 'e4,c5,Nf3,e6,d3,b6,Be2,Bb7,O-O,Be7,Nc3,d6,Bf4,a6,Qd2,Nf6,Rfe1,O-O,e5,dxe5,Nxe5,Nbd7,Bf3,Bxf3,Nxf3,Re8,Rab1,Nf8,Be5,Ng6,Bxf6,Bxf6,Ne4,Be7,Qe3,Rc8,b3,Qc7,a4,b5,axb5,axb5,Neg5,Bxg5,Nxg5,c4,dxc4,bxc4,b4,h6,Ne4,Red8,Red1,Qc6,c3,Qa4,Rxd8+,Rxd8,h3,Rd3,Qc5,Qa2,Rf1,Qe2,Qxc4,Nf4,h4,Qg4,Qc8+,Kh7,Ng3,Rxg3,fxg3,Qxg3,Qc6', 'Ne2+,Kh1,Qxh4#', 'https://lichess.org/training/2Ur1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2UtEU', 'Blitz', 'pernadojiu', 1918, 'fernan_27', 1860, 'b3,d5,Bb2,Bf5,e3,Nd7,Nf3,Ngf6,Qe2,e6,Nc3,Bd6,h3,c6,g4,Bg6,O-O-O,Qe7,h4,h5,g5,Ne4,Nxe4,Bxe4,Bxg7,Rg8,Bh6,Ne5,Bg2,Ng4,d3,Nxh6,dxe4,Ng4,exd5,cxd5,Nd4,Rc8,Bf3,Ne5,Bxh5,Ba3+,Kd2', 'Qb4+,c3,Qxc3#', 'https://lichess.org/training/2UtEU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2UUFk', 'Rapid', 'Jordan1969bg', 1948, 'shozolosa', 2231, 'e4,d6,d4,g6,Nf3,Bg7,Bc4,c5,dxc5,Qa5+,c3,Qxc5,Bb3,Nf6,Be3,Qh5,Nbd2,O-O,O-O,Nc6,h3,Bxh3,gxh3,Qxh3,Nh2,Ne5,Bf4,Neg4,Qf3,Qxf3,Ndxf3,Nxh2,Kxh2,e5,Be3,Nxe4,Bd5,Nf6,Bxb7,Rab8,Ba6,Ng4+,Kg3,Nxe3,fxe3,Rxb2,Bc4,e4,Nd4,Be5+,Kg4,h5+,Kh4,Kg7,Rh1,Kh6,Rab1,Rg2,Rbg1,g5+,Kh3,Rxg1,Rxg1,g4+,Kg2,Kg5,Rf1,f5', 'Ne6+,Kf6,Nxf8', 'https://lichess.org/training/2UUFk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2vA76', 'Rapid', 'Svendra', 2039, 'FM bacchus65', 2022, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nf6,Nc3,Bg4,Bg5,Bxf3,gxf3,Nc6,Bb5,Qa5,Bxf6,gxf6,O-O-O,O-O-O,Bxc6,bxc6,Kb1,Kc7,b3,Bh6,Rhg1,Bf4,h3', 'Be5,Nd5+,cxd5', 'https://lichess.org/training/2vA76');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2VBoB', 'Rapid', 'Rebecamontiei', 1906, 'BryanMurillo', 1895, 'e4,c6,Nf3,d5,exd5,cxd5,d4,e6,c3,Nc6,Bb5,Nf6,Ne5,Bd7,Nxd7,Qxd7,O-O,a6,Bxc6,bxc6,Bg5,Bd6,Bxf6,gxf6,Qg4,O-O-O,Nd2,Rdg8,Qf3,Rg6,c4,Rhg8,g3,h5,cxd5,exd5,Rac1,h4,Qxd5,Kd8,Qa5+,Bc7,Qxa6,hxg3,fxg3,Bxg3,Qa8+,Bb8+,Kh1,Qd5+,Nf3', 'Rg1+,Rxg1,Qxf3+,Rg2,Qxg2#', 'https://lichess.org/training/2VBoB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2vCaK', 'Classical', 'DeddyAhmad', 1671, 'AntoniosNls', 1739, 'e4,e5,Nf3,Nc6,c3,g6,Bb5,Bg7,d3,d6,Be3,Bg4,h3,Bd7,d4,exd4,cxd4,Nf6,Nc3,O-O,O-O,a6,Ba4,b5,Bb3,Na5,Re1,b4,e5,dxe5,dxe5,bxc3,exf6,Bxf6,bxc3,Bxc3,Bd4,Bxe1,Qxe1,Nxb3,axb3,Bc6', 'Qe5,f6,Qe6+,Rf7,Qxc6', 'https://lichess.org/training/2vCaK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2vdCZ', 'Classical', 'SergeyKalinin1977', 1759, 'Blioless', 1747, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,Bd6,dxe5,Bxe5,Nxe5,Nxe5,Qd5,d6,f4,Nxc4,Qxc4,Bd7,O-O,Bc6,e5,d5,Qe2,Qh4,Nd2,O-O-O,b3,g5,f5', 'Qd4+,Qf2,Qxa1', 'https://lichess.org/training/2vdCZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2VeGv', 'Classical', 'SilentLips', 1678, 'TheAutonomos', 1711, 'e4,e5,Nc3,Nf6,Nf3,d6,Bc4,h6,O-O,Bg4,h3,Bh5,d3,Nc6,Be3,Nd4,Bxd4,exd4,Ne2,c5,Ng3,Bg6,Re1,Be7,Qe2,O-O,e5,dxe5,Qxe5,Bd6,Qe2,Bxg3,fxg3,Qc7,Qf2,a6,a4,Qc6,b3,Rab8', 'Ne5,Qd6,Nxg6', 'https://lichess.org/training/2VeGv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2VEIw', 'Blitz', 'vvd67', 1683, 'Kuckodony', 1695, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,g6,e4,Nb6,Nc3,Bg7,Be3,Bg4,Be2,O-O,O-O,Bxf3,Bxf3,Nc4,Bc1,Qxd4,Qb3,Nb6,Rd1,Qc4,Bg5,f6,Bf4,Qxb3,axb3,e5,Be3,Nc6,Bxb6,axb6,Rac1,Nd4,Nd5,c6,Nxb6,Ra6,Nc4,Nxb3,Rb1,Raa8,Nd6,Rab8,Bg4,Nd4,Ra1,Rfd8,Nc4,Bf8,Rac1,c5,Nb6,Rd6,Nd5,Rdd8,Rxc5,Bxc5,b4,Bf8,Ra1,b5,Ra7,Ra8', 'Nxf6+,Kh8,Rxh7#', 'https://lichess.org/training/2VEIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2VEpv', 'Rapid', 'denishendaye', 1911, 'hadynthepadawan', 1840, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Bc4,e6,Nc3,Be7,Ngxe4,O-O,d3,b6,O-O,Bb7,h3,c5,Bf4,a6,Rb1,Nc6,Nxf6+,Bxf6,Ne4,Be7,c3,Kh8,Qe2,Na5,Bb3,Nxb3,axb3,f6,Rbd1,e5,Be3,f5,d4,exd4,cxd4,fxe4,dxc5,Qe8,cxb6,Qg6', 'Rd7,Bc8,Rxe7', 'https://lichess.org/training/2VEpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2VFZY', 'Rapid', 'YuriKing', 2145, 'uchebi', 2067, 'e4,c5,Nf3,e6,c4,Nc6,Nc3,d6,d4,cxd4,Nxd4,a6,Be2,Nf6,Be3,Be7,O-O,O-O,Rc1,Bd7,f3,Rc8,Qd2,Qa5,Rfd1,Rfd8,b3,Bf8,Bf1,Ne5,Qf2,Ng6,a4,Qh5,Nde2,e5,Ng3,Qh4,Qd2,Nf4,Bxf4,exf4,Nge2,g5,Nd5,Nxd5,Qxd5,Bc6,Qf5,Bd7,Qf6,Be6,Nd4', 'Bg7,Qxd8+,Rxd8', 'https://lichess.org/training/2VFZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2vgk8', 'Rapid', 'Bradford1', 1622, 'wasserflasche', 1637, 'f4,d5,Nf3,Bg4,e3,Nc6,d4,Nf6,c4,e6,a3,a6,Nc3,Ne4,h3,Bh5,g4,Bg6,Be2,Nxc3,bxc3,dxc4,Bxc4,Be4,Bd3,Bxd3,Qxd3,Be7,O-O,O-O,g5,g6,h4,b5,Kg2,f6,Rh1,Rf7,gxf6,Bxf6,Ng5,Bxg5,hxg5,Qd7,Kg3,Na5,e4,Nc4,Rh6,Raf8,Ra2,c5,a4,cxd4,cxd4,Qd6,e5,Qd5,axb5,axb5,Ba3,Rd8,Bc5,Rc7,Rah2,Rxc5,Qxg6+,hxg6', 'Rh8+,Kf7,R2h7#', 'https://lichess.org/training/2vgk8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2VHbf', 'Classical', 'AttackTal', 1990, 'PARSI__8412', 1931, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Be3,b5,Bb3,b4,Na4,Nxe4,Nxe6,Bxe6,Bd5,Nd7,Bxe4,Rc8,O-O,Be7,c3,bxc3,Nxc3,O-O,Bb7,Rb8,Qf3,Ne5,Qe4,f5,Qd4,Rxb7,Nd5,Rd7,b3,Bf6,Nxf6+,Qxf6,f4,Ng4,Qd2,Nxe3,Qxe3,d5,Qb6,Bf7,Qc5,Qd6,Qd4,Re8,Rf2,Re4,Qb2,Rxf4,Rd2,Qc5+,Kh1,d4,Rc1,Qc3', 'Qxc3,dxc3,Rxd7', 'https://lichess.org/training/2VHbf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2vhh0', 'Classical', 'jr2019', 1971, 'islam_sso', 1943, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,d6,e5,Nxe5,Nxe5,dxe5,Re1,Qf6', 'Qa4+,c6,Qxa5', 'https://lichess.org/training/2vhh0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2vm4G', 'Rapid', 'SCWeisseDame', 1801, 'Fabrice6293', 1768, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,dxe5,dxe5,O-O,Bd6,Nc3,Nf6,Be3,O-O,Re1,h6,Nd5,Bg4,h3,Bh5,Be2,Nxe4,Qd3,Nf6,Ng5,Bxe2', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/2vm4G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2vmkE', 'Blitz', 'valstar', 1814, 'onderakar', 1731, 'd4,c5,d5,d6,c4,Nf6,Nc3,Bd7,e4,a5,Bf4,b5,cxb5,Qb6,a4,Bg4,Be2,Bd7,Nf3,e5,dxe6,Bxe6,O-O,Be7,e5,dxe5,Bxe5,O-O,Qc2,Nbd7,Bf4,Bd6,Bxd6,Qxd6,Rad1,Qf4,b3,Bf5,Bd3,Bxd3,Rxd3,Rad8,Rfd1,Ng4,Ne2,Qc7,h3,Nde5,Rxd8', 'Nxf3+,gxf3,Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/2vmkE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2VmVz', 'Rapid', 'kingchas3r', 2149, 'QueenH5', 1925, 'e4,e6,d4,a5,c4,a4,a3,b6,Nf3,Bb7,Nc3,Be7,d5,Ra5,Bd2,Na6,Nxa4,Rxa4,Qxa4,Nc5,Qc2,Nf6,e5,Nfe4,b4,Nxd2,Nxd2,Na6,dxe6,fxe6,Ne4,Qa8,Bd3', 'Nxb4,axb4,Qxa1+', 'https://lichess.org/training/2VmVz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2vSRI', 'Rapid', 'jonyan', 1619, 'imbecilexix', 1924, 'Nf3,d5,d4,c5,c4,Nf6,cxd5,Nxd5,e4,Nf6,e5,Nd5,Bc4,e6,Ng5,h6,Nxf7,Kxf7,Qh5+,Kg8,O-O,Qe7,Bd3,Qf7,Bg6,Qe7,Nd2,Nc6,Ne4,Bd7,Nd6,Nxd4', 'Bf7+,Qxf7,Qxf7+', 'https://lichess.org/training/2vSRI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2VvXJ', 'Rapid', 'procpa', 1912, 'ELJONSSON', 1929, 'e4,e5,Nf3,d6,Bb5+,c6,Bc4,h6,d3,Nf6,O-O,Be7,d4,Nbd7,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Bxd8,Nc3,O-O,f4,Bc7,f5,b5,Bb3,a5,a4,b4,Ne2,Nxe4,Be3,Kh8,Rad1,Ba6,Ng3,Nxg3,hxg3,Bxf1,Rxf1,Rad8,Bc5,Bd6,Bb6,Ra8,Rd1,Be7,Rd7,Ra6,Be3,Bf6,Bxf7,Raa8,Bc5,Rfd8,Rc7,Rac8,Ra7,Ra8,Rc7,Rdc8,Rd7,e4,Be6,Bxb2,Rd6,Be5,Rd7,Bxg3,Bd4,Rg8,f6,h5,fxg7+,Kh7', 'Bf5+,Kh6,Be3+,Bf4,Bxf4#', 'https://lichess.org/training/2VvXJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Vyks', 'Rapid', 'daniel921126', 1924, 'AjedrezGenesis', 2169, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,O-O,Nc6,Bg5,Be6,Bxf6,Bxf6,Nd5,Bxd5,Qxd5,Qc7,Rad1,Rd8,f4,O-O,Kh1,exf4,Rxf4,Be5,Rf2,Nb4,Qc4,Qxc4,Bxc4,Rc8,Bd3,Bxb2,g4,Rfe8,Nd2,Bd4,Rf3,Nxa2,Bc4,Nc3,Rdf1,Re7,Bxf7+,Kh8', 'Be6,g6,Bxc8', 'https://lichess.org/training/2Vyks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2vYuE', 'Blitz', 'mravecuk', 2488, 'CM PchelkinVK', 2464, 'd4,e5,dxe5,d6,e4,Nc6,Bb5,Bd7,exd6,Bxd6,Nf3,Qe7,O-O,O-O-O,Re1,Bg4,Bxc6', 'Bxh2+,Kxh2,Rxd1', 'https://lichess.org/training/2vYuE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2W0bG', 'Classical', 'animerandomness', 1822, 'abretesesamo', 1848, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,e5,Nf3,Be7,O-O,O-O,h3,Nbd7,c4,Nc5,Nc3,Nxd3,Qxd3,Be6,Bg5,Qc7,Nd5,Bxd5,cxd5,Rac8,Rac1,Qd7,Rc2,Rxc2,Qxc2,Rc8,Qd3,Qa4,Bxf6,Bxf6,a3,Rc2', 'b3,Qxa3,Qxc2', 'https://lichess.org/training/2W0bG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2w24W', 'Rapid', 'BearBo', 1690, 'Sugo_Haseyo', 1917, 'd4,Nf6,c4,c5,d5,e6,dxe6,fxe6,Nc3,d5,e3,Nc6,Nf3,d4,exd4,cxd4,Nb5,e5,Bg5,Bg4,h3,Bh5,Bxf6,Qxf6,Nc7+,Kf7,Nxa8', 'Bb4+,Nd2,Bxd1', 'https://lichess.org/training/2w24W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2w3NE', 'Classical', 'MITa_m', 1643, 'hangrad', 1667, 'd4,Nf6,Bf4,g6,Nd2,Bg7,e3,d5,c4,O-O,Ngf3,Nc6,h3,dxc4,Bxc4,Bf5,O-O,Nh5,Bh2,Nf6,Qb3,Na5,Qxb7,Nxc4,Nxc4,Be4,Qxc7,Bxf3', 'Qxd8,Rfxd8,gxf3', 'https://lichess.org/training/2w3NE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2W3r6', 'Rapid', 'joinloko', 1705, 'Berlingo20096', 1606, 'e4,g6,Nf3,Bg7,Nc3,a6,Bc4,c6,O-O,e6,a4,b6,d4,d6,Be3,Ne7,e5,d5,Bb3,O-O,Qd2,c5,Bh6,cxd4,Nxd4,Nbc6,Bxg7,Kxg7,Nd1,Nxe5,Re1,N5c6', 'Nxc6,Nxc6,Qc3+,d4,Qxc6', 'https://lichess.org/training/2W3r6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2W3Xz', 'Blitz', 'Jager90', 2480, 'Kastling', 2412, 'e4,e5,Nc3,Nf6,f4,d5,fxe5,Nxe4,d3,Nxc3,bxc3,c5,Nf3,Nc6,Be2,Be6,O-O,Be7,Rb1,b6,d4,O-O,Qe1,f6,Bb5,Rc8,Qg3,fxe5,Bxc6,Rxc6,Nxe5,Rc8,Rxf8+,Qxf8,Bg5,Bxg5,Qxg5,Qf6,Qd2,cxd4,cxd4,Qf5,Rc1,Qe4,c3,Rf8,Rf1,Rxf1+,Kxf1,Qb1+,Kf2,Bf5,h3,h6,Kg3,Bc2,a3,Be4,Qf2,Bf5,Kh2,Qe4,Nc6,a5', 'Qxf5,Qxf5,Ne7+,Kf7,Nxf5', 'https://lichess.org/training/2W3Xz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2W4qu', 'Rapid', 'GambitProChess', 1905, 'Andwae8', 1886, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,Bg5,Be7,a3,d6,Nc3,a6,Ne2,Be6,Bxe6,fxe6,Ng3,Ne8,Bxe7,Qxe7,h3,h6,Nh5,Nd4,Nxd4,exd4,Qg4,Nf6,Nxf6+,Qxf6,Rab1,e5,b4,Rad8,f3,Qf4,Qe6+,Kh8,Qd5,c6,Qe6,Qe3+,Kh1,Rf6,Qe7,Rdf8,Qxb7,c5,Qxa6,cxb4,axb4,d5,Qb7,dxe4,Qxe4,Qxe4,dxe4,Rc8,Rb2,Rb8,Kg1,Rfb6,Rfb1,Kh7,Kf2,Kg6,Kg3,h5,f4,exf4+,Kxf4,Rb5,g3', 'Rf8#', 'https://lichess.org/training/2W4qu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2W5fY', 'Rapid', 'Dani097', 2041, 'BBKBBK', 2086, 'e4,g6,Nf3,Bg7,Bc4,e6,O-O,c6,c3,Ne7,d3,d5,Bb3,O-O,Qe2,b6,Bg5,Qc7,Re1,Kh8,Nbd2,Ba6,exd5,Nxd5,Ne4,Nd7,Qd2,N5f6,Bf4,e5,Nxf6,Bxf6,Bh6,Bg7,Bxg7+,Kxg7,Qg5,f6,Qg3,Bxd3,Nxe5,Nxe5,f4,Bc4', 'fxe5,fxe5,Bxc4', 'https://lichess.org/training/2W5fY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2W70w', 'Rapid', 'AZan94', 1629, 'vish1', 1637, 'c4,e5,e4,c5,Nf3,Nc6,Nc3,Nge7,Nd5,g6,d3,Bg7,Ng5,O-O,Qf3,Nd4,Qh3,h6,Nf3,d6,Qh4,Be6', 'Nxe7+,Qxe7,Qxe7', 'https://lichess.org/training/2W70w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2WBJ8', 'Bullet', 'CM FourNinetySix', 2333, 'Bravjocker2019', 2189, 'e4,Nf6,e5,Nd5,d4,d6,f4,dxe5,fxe5,c5,c3,Nc6,Bb5,cxd4,Bxc6+,bxc6,cxd4,Ba6,Nc3,e6,Qa4,Nxc3,Qxc6+,Ke7,bxc3,Qa5,a4', 'Rc8,Bg5+,f6,exf6+,gxf6', 'https://lichess.org/training/2WBJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2wBqa', 'Rapid', 'unclebob2000', 1730, 'Nonsio', 1628, 'e4,e5,Bc4,Nc6,c3,a6,Bb3,d6,h3,b5,Nf3,Bb7,d3,Nf6,O-O,Be7,Bg5,O-O,Re1,Nh5,Bxe7,Qxe7,Nbd2,Nf4,Nf1,Qf6,Ng3,Ne7,d4,Neg6,Nf5,Bc8,Bc2,Bxf5,exf5,Nh4,dxe5,dxe5,Nxh4,Qxh4,Rxe5,Rad8,Qf3,Rd2,Bb3,Nd3,Re2,Rxe2,Qxe2,Nf4,Qe4', 'Nxh3+,gxh3,Qxe4', 'https://lichess.org/training/2wBqa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Wchl', 'Rapid', 'GfGORCHS', 1815, 'NikhilGunjal', 1895, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,Nc3,Nc6,Nb5,Bg4,Nxd6,Qxd6,h3,Bxf3,Qxf3,Nxd4,Qd1,c5,c3,Ne6,b3,Rad8,Qc2,h6,g3,c4,Bf5,cxb3,axb3,Ne4,Bxe4,dxe4,Qxe4,f5,Qc4,Rc8,Qb4,Qd3,Be3,Rxc3,Rxa7,Rxb3,Qe7,f4', 'Qxe6+,Kh7,Bxf4', 'https://lichess.org/training/2Wchl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2WepG', 'Rapid', 'comoesquesejuegaesto', 1768, 'chairulusk', 1711, 'e4,e5,Ne2,Bc5,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,Qf6,Be3,Bxe3,fxe3,Ne7,Qd2,O-O,O-O-O,d5,exd5,Nxd5,Nxd5,cxd5,Qxd5,Be6,Qf3,Qe7,Kb1,Rab8,h4,Qa3,b3,g6,h5,Bf5,e4,Be6,Rd3,a5,hxg6,fxg6,Qg3,Rf7,Rf3,Rbf8,Qh4,Qe7,Rxf7,Qxh4', 'Rxf8+,Kxf8,Rxh4', 'https://lichess.org/training/2WepG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2WeuJ', 'Rapid', 'black_mover', 1757, 'phillipwhittaker', 1700, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Nxc6,bxc6,a3,d5,e5,Nd7,f4,Nc5,O-O,Qb6,Kh1,Be7,Nc3,Ba6,Bxa6,Qxa6,Be3,O-O,Rb1,Qc4,Qg4,Ne4,Nxe4,Qxe4,Qe2', 'd4,Qc4,Qxe3,Rbe1,Qd2', 'https://lichess.org/training/2WeuJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2wJLW', 'Rapid', 'Thorik94', 1736, 'MorozovIgor', 1754, 'e4,c5,Nf3,d6,Nc3,e6,d4,cxd4,Nxd4,a6,Be3,Nd7,f3,Ngf6,Bc4,Qc7,b3,b5,Ncxb5,axb5,Nxb5,Qb8,a4,Ba6,O-O,Be7,Qd2,O-O,Rfd1,Ne5,Be2,Rd8,c4,h6,h4,d5,exd5,exd5,Qc2,Bxb5,cxb5,d4,Rxd4,Nd5,Bf2,Bf6,h5,Nd7,Rxd5,Bxa1,Qd1,Nf6', 'Rxd8+,Qxd8,Qxa1', 'https://lichess.org/training/2wJLW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2wkJd', 'Rapid', 'pouyaz', 1831, 'iilker', 1787, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,Bc4+,d5,exd5,Nxd5,Qf3+,Ke6,Nc3,c6,Nxd5,cxd5,Bb3,Bc5,O-O,Rf8,Re1+,Kd6', 'Qxd5+,Kc7,Qxc5+', 'https://lichess.org/training/2wkJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2wKoU', 'Bullet', 'Silence-1982', 1769, 'Pa72Ja08', 1878, 'Nc3,d5,d4,c5,dxc5,d4,Ne4,f5,Ng5,e5,e4,Be7,exf5,Bxg5,Qh5+,Kf8,Bxg5,Qa5+,Bd2,Qxc5,O-O-O,Nf6,Qh3,Nc6,g4,Qd5,Qa3+,Kf7,f3,Re8,Nh3,Kg8,Bg2,Nxg4,fxg4,Qxg2,Qb3+,Kh8,Rhg1,Qxh3,Qxh3,Rf8,c3,Bd7,cxd4,exd4,Kb1,Rac8,Rc1,Rf6,Bg5,Rd6,Bf4,Rd5,Rge1,d3,Rcd1,Nb4,Rd2,Nc2,Rc1,Bb5,Qg3,Rd7,g5,a6,f6,g6,Be5,Bc4,Bc3,Kg8,Qe5,Kf7,Rdxc2,dxc2+,Rxc2', 'Rd1+,Rc1,Bd3+,Ka1,Rxc1#', 'https://lichess.org/training/2wKoU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2wl7R', 'Rapid', 'Adiosamigo08', 2075, 'marsito', 1989, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,O-O,Nf3,a6,Rc1,dxc4,Bxc4,b5,Bd3,Nbd7,O-O,Bb7,Re1,Re8,a3,c5,dxc5,Nxc5,Be2,Qxd1,Rcxd1,h6,Bh4,Rac8,Na2,Nce4,Nd4,g5,Bg3,Nxg3,hxg3,Kg7,Nc3,b4,axb4,Bxb4,Ra1,Rxc3,bxc3,Bxc3,Reb1,Bxa1,Rxa1,Ra8,Rb1,Be4,Rb6,a5,f3,Bg6,e4,a4,Rb7,Kg8,Bc4,Ne8,Nb5,a3,Ba2,g4,Kf2,h5,Ke3,Nf6,Nd6,Rd8,Nc4,Ra8,Ne5,gxf3,gxf3,Ra5,Nxg6,fxg6,Bxe6+,Kh8,Ba2,g5,Rf7,Ra6,Rb7,h4,Rb5,h3,Kf2,Rc6,Bb1,a2,Bxa2,Rc2+,Kg1,Rxa2,Rxg5,Rg2+,Kh1,Kh7,e5,Kh6', 'exf6,Kxg5,f7', 'https://lichess.org/training/2wl7R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2wm7V', 'Blitz', 'damaconsorpresa', 2299, 'IM DrEstranged', 2375, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,Bg4,c3,Nf6,Re1,e6,d4,cxd4,cxd4,d5,exd5,Nxd5,Nc3,Be7,Qa4,O-O,Bxc6,Bxf3,Bxb7', 'Nxc3,bxc3,Bxb7', 'https://lichess.org/training/2wm7V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2WnNh', 'Rapid', 'Lewton', 2483, 'singanu', 2217, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Bg5,a6,Qd2,Nbd7,O-O-O,b5,e5,dxe5,dxe5,b4,Na4,Nh5,Nc5,b3,a3,Nxc5,Qxd8,Rxd8,Rxd8+,Bf8,Rd1,Ne6,Be3,Bg7,g4,Nhf4,Bxf4,Nxf4,Rd8+,Bf8,Ne2,Ne6,Rd3,Bh6+,Kb1,Nc5,Rd8+,Kg7,f4', 'Bf5+,gxf5,Rxd8', 'https://lichess.org/training/2WnNh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2wov8', 'Rapid', 'Rate2000Breaker', 1839, 'Dan_2020', 1880, 'Nf3,c5,c4,e6,e4,Nf6,Nc3,d6,g3,Be7,Bg2,Bd7,O-O,Bc6,e5,dxe5,Nxe5,Bxg2,Kxg2,O-O,b3,Qd4,Re1,Rd8,Nf3,Qd7,Bb2,Nc6,Qe2,a6,Ne4,Nd4,Nxf6+,Bxf6,Nxd4,cxd4,Red1', 'd3,Qf3,Bxb2', 'https://lichess.org/training/2wov8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2WP8N', 'Classical', 'RingelothwalterGM', 2110, 'david-innes', 1926, 'c4,d5,cxd5,c6,dxc6,Nxc6,g3,e5,Bg2,Nf6,Nc3,Bc5,Nf3,Bf5,O-O,O-O,d3,h6,a3,Ng4,b4,Bb6,h3,Nxf2,Rxf2,Bxf2+,Kxf2,Qc8,h4,Nd4,Bb2,Re8,Rc1,Qe6,Na4,Rad8,Nc5,Qb6,Nxd4,exd4,Nxb7,Rd7,Nc5,Rde7,Bxd4,Rxe2+,Qxe2,Rxe2+,Kxe2,Qg6,Ne4,Bxe4,Bxe4,Qe6,Bxa7,f5,Rc6,Qa2+,Ke3,fxe4,Kxe4', 'Qg2+,Ke5,Qxc6', 'https://lichess.org/training/2WP8N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2wS55', 'Rapid', 'heyfilho', 1796, 'samvelqs', 1805, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be3,Bd7,Qd2,Nc6,f3,Nxd4,Bxd4,c5,Be3,Rc8,O-O-O,a6,g4,b5,g5,Ng8,Nd5,Bf8,h4,Be6,Be2,b4,f4,Qa5,Kb1,Ne7,Nxe7', 'Qxa2+,Kc1,Qa1#', 'https://lichess.org/training/2wS55');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2WSR4', 'Classical', 'DoMostAuto', 1653, 'witwal', 1936, 'e4,e5,Nf3,f5,Bc4,fxe4,Nxe5,Nh6,d3,Qf6,Bxh6,Qxe5,Be3,d5,Bb5+,c6,Ba4,d4,Bd2,e3,fxe3,dxe3,Bc3,Qg5,O-O,Bd6,Qf3,Rf8,Qe4+,Qe7,Rxf8+,Kxf8,Qxh7,Be5,Bb3,Ke8,Qg8+,Kd7,Be1', 'Bxb2,Nc3,Bxa1', 'https://lichess.org/training/2WSR4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2wXca', 'Rapid', 'Nagyc42', 1980, 'pedrolo', 1618, 'd4,b6,c4,e6,Nc3,Nf6,e4,d6,Bd3,Bb7,f3,Nc6,Be3,Be7,Nge2,O-O,a3,Qd7,Qc2,e5,d5,Nd8,Ng3,c6,O-O,cxd5,exd5,Rc8,Qf2,Ba6,Bf5,Qc7,Bxc8,Qxc8,b3,b5,Nxb5,Bxb5,cxb5,Qb7,Nf5,g6,Nxe7+,Qxe7,Bxa7,Nxd5,a4,Nf4,Rfd1,Qg5,Rxd6', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/2wXca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2x3qf', 'Rapid', 'chessdaddy53', 1934, 'GMScuzzBall', 1931, 'e4,c5,Nf3,e6,c4,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,Nc3,Nge7,Ndb5,O-O,Nd6,Qa5,Qd2,Qe5,f4,Qh5,Be2,Qh4+,g3,Qh3,e5,Nf5,O-O-O,Nxe3,Qxe3,Ne7,Nce4,Nf5,Qf2,Nxd6,Nxd6,f6,Qe3,fxe5,fxe5', 'Bh6,Qxh6,Qxh6+', 'https://lichess.org/training/2x3qf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2X42s', 'Blitz', 'spongebob_22', 2266, 'quentinf', 2316, 'e4,g6,d4,Bg7,f4,d6,Nf3,a6,c3,b5,Bd3,Bb7,Be3,Nf6,Nbd2,Nbd7,Qe2,c5,h3,O-O,O-O-O,Rc8,Kb1,cxd4,cxd4,e5,g4,exf4,Bxf4,d5,e5,Ne8,h4,Nc7,h5,Ne6,Be3,Nb6,hxg6,fxg6,Qh2,h5,Bxg6,h4,g5,Nc4,Qxh4,Rxf3,Nxf3,Nxe3,Qh7+,Kf8,Nd2,Qxg5,Rdf1+,Nxf1,Rxf1+,Ke7,Rf7+,Kd8,Qg8+,Bf8,Rxf8+,Nxf8', 'Qxf8+,Kc7,Qd6#', 'https://lichess.org/training/2X42s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2x7h4', 'Blitz', 'IvanKoriakin', 1685, 'drTurk', 1699, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,a6,c4,Qe4+,Ne2,e6,f3,Qc6,b3,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O-O,b5,Ng3,bxc4,Bxc4,a5,d5,exd5,Qxd5,Qh6+,Kb2,c6', 'Qxf7+,Rxf7,Rd8#', 'https://lichess.org/training/2x7h4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2X860', 'Rapid', 'imepro', 1839, 'Archeopteryx-Flying', 1913, 'Nc3,e6,e4,d5,d4,Nf6,e5,Nfd7,Nf3,c5,Nb5,cxd4,Nd6+,Bxd6,exd6,Nc6,Nxd4,a6,Nxc6,bxc6,h4,Nf6,Bf4,Ne4,Qd4,f6,O-O-O,e5,Bxe5,fxe5,Qxe5+,Kf8,c4,Qf6,Qxf6+,Nxf6,Re1,Bd7,Bd3,Re8,Rxe8+,Kxe8,Re1+,Kd8,Re7,g6,h5,Nxh5,cxd5,cxd5,Bxa6,Nf6,Re5,Re8,f4,Bf5,a4,Kd7', 'Bb5+,Kd8,Bxe8', 'https://lichess.org/training/2X860');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2x9Gg', 'Rapid', 'borifil', 2209, 'Arlekhuin', 2095, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,h3,d5,exd5,Nxd5,Re1,Bf6,c3,Bf5,b4,a6,Bb2,Nb6,Qb3,Bxd3,Bxd3,Qxd3,Nbd2,Rfe8,Rad1,Qg6,Ne4,a5,b5,a4,Qc2,Na5,Ba1,Kh8,Qe2,Nac4,Nfd2,Nxd2,Rxd2,Rad8,Rxd8,Rxd8,Nxf6,gxf6,c4,Qd3,Qh5,Qg6,Qh4,Qg5', 'Qxg5,fxg5,Bxe5+,Kg8,Bxc7', 'https://lichess.org/training/2x9Gg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2XBJR', 'Rapid', 'schnitzeldoern', 1636, 'NAVALIN', 1640, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,Qb6,Nf3,cxd4,cxd4,Bb4+,Bd2,Be7,O-O,O-O,Qc2,g6,a3,f6,exf6,Rxf6,b4,Qc7,Rac1,Qb8,b5,Nd8,Bh6,Bd6,h3,Rxf3,gxf3,Bh2+,Kh1,Nf7,Bxg6,Nxh6,Bxh7+,Kh8,Qg6,Nf8,Qxh6,Nxh7,Rg1,Bxg1,Rxg1,Qc7,Rg4,e5,Rh4,Bf5', 'Qf6+,Qg7,Qxf5', 'https://lichess.org/training/2XBJR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2XcIc', 'Rapid', 'unbeliever1', 1641, 'Gaisenberg', 1661, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,a6,Nc3,d6,Bd3,g6,Nf3,Nf6,O-O,Bg7,Nd5,e6,Nxf6+,Qxf6,c3,O-O,Re1,b5,Bd2,Bb7,Nd4,Nxd4,cxd4,Qxd4,Qxd4,Bxd4,Bc3,Bxc3,bxc3,Rac8,Rac1,d5,e5,Rfd8,Red1,d4,c4,bxc4,Rxc4,Bd5,Rxc8,Rxc8,a4,Bc4', 'Rc1,Bxd3,Rxc8+', 'https://lichess.org/training/2XcIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2XCwx', 'Rapid', 'abstract1972', 1974, 'karlonugha', 1944, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,Bg4,Be2,e6,d4,Bxf3,Bxf3,Nxd4,Bxb7,Rb8,Ba6,Bb4+,Nc3,O-O,O-O,Bxc3,bxc3,Nc6,Qxd8,Rfxd8,Bg5,Kh8,Bxf6,gxf6,g3,Ne5,Rfd1,Rg8,Kg2,h6,Rd4,Rb2,c5,Ng4,Rf4,e5,Rf5', 'Ne3+,Kg1,Nxf5', 'https://lichess.org/training/2XCwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2XGtu', 'Rapid', 'j-why', 1885, 'sanjadhi', 1889, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Bd7,Be2,cxd4,cxd4,Nge7,b4,a6,Nc3,Nf5,Na4,Qd8,Bb2,Be7,O-O,O-O,Rc1,Rc8,Nc5,Bxc5,dxc5,h6,Bd3,Nfe7,Bb1,Ng6,Qd3,Nce7,h4,Bb5,Qc2,Nf5,h5,Ngh4,Nxh4,Qxh4,Rfe1,Qxh5,a4,Bc6,f3,Rfd8,g4,Qg5,Re2,d4,Qd3,Nh4,Rf1,Nxf3+,Rxf3,Qxg4+,Rg2', 'Qxf3,Qxf3,Bxf3', 'https://lichess.org/training/2XGtu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2xidT', 'Rapid', 'coformento', 1701, 'kubaiga', 1700, 'e4,c5,Bc4,e6,Nc3,a6,a3,Nf6,d3,h6,Nge2,d5,exd5,exd5,Ba2,d4,Ne4,Nxe4,dxe4,Bd6,O-O,O-O,Ng3,Be6,Nf5,Bxa2,Rxa2,Re8,Bxh6,gxh6', 'Qg4+,Qg5,Nxh6+,Kf8,Qxg5', 'https://lichess.org/training/2xidT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2XLb3', 'Blitz', 'eneeo', 1553, 'Perdviv', 1591, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,a3,O-O,b4,Bd4,Bb2,Nxe4,Nxe4,Bxb2,Rb1,Bxa3,Bc4,Re8,Bd3,f5,Bc4+,Kh8,O-O,fxe4,Qh5,g6,Qh6,b5,Bf7,Rf8,Bxg6,Qe7,Rfe1,Bf5,Bxf5,Rxf5,Qe3,Bxb4,Qb3,Bxd2,Red1,Qg5,Qb2+,Kg8,c4,Qf4,Rxd2,Raf8,cxb5,e3,Qa2+,Kh8,Qb2+,Kg8,Qb3+,Rd5,fxe3,Qf5,Rxd5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/2XLb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2xN16', 'Rapid', 'MysteryMoves', 1883, 'King_of_Cha0s', 1928, 'e4,e6,Nc3,c5,Nf3,Nc6,d4,cxd4,Nxd4,Bb4,Bf4,Qb6,a3,Qxd4,axb4,Qxb4,Qd2,e5,Bg3,Nf6,Bd3,Qxb2,Rb1,Qa3,Nb5,Qa2,O-O,O-O,Ra1,Qe6,Nc7,Qd6,Nxa8,Nxe4,Qe3,Nxg3,fxg3,Qb8,Bb5,Qxa8,Bxc6,dxc6,Rxa7,Qb8,Rfa1,Qd6,Rb1,Qd4,Kf2,Rd8,c3,Qd2+,Qxd2,Rxd2+,Ke3,Rd8,Ra8,Rf8,c4,f5,c5,Kf7,g4,fxg4', 'Rf1+,Kg6,Rxf8', 'https://lichess.org/training/2xN16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2XOuC', 'Rapid', 'realPatrickBateman', 1717, 'marsupiales3v', 1717, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bf4,a6,e3,b6,Bd3,Nbd7,O-O,O-O,h3,c5,cxd5,exd5,Qc2,c4,Be2,Re8,a4,Bb7,b3,cxb3,Qxb3,Nf8,Rac1,Rc8,Bd3,Ng6,Bh2,Rc6,Qc2,Bb4,Qb2,Bxc3,Rxc3,Rce6,Rfc1,R6e7,Ne5,Nxe5,Bxe5,Ne4,R3c2,f6,Bc7,Qd7,Qxb6,Bc8,f3,Ng5,Bf4,Ne6,Bf5,g6,Bxe6+,Rxe6,Rc7', 'Rxb6,Rxd7,Bxd7', 'https://lichess.org/training/2XOuC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2xP7m', 'Blitz', 'MRNDJIC', 2402, 'IM jesusmartinduque', 2404, 'd4,Nf6,c4,b6,Nc3,Bb7,Nf3,e6,Bg5,Be7,e3,h6,Bh4,O-O,Bd3,c5,O-O,cxd4,exd4,d5,Qe2,dxc4,Bxc4,Nc6,Rad1,Na5,Bd3,Nd5,Bg3,Bd6,Ne5,Rc8,Ne4,Bb8,Bb1,f5,Nd2,Qf6,f4,Rfd8,Rfe1,Nb4,a3,Nbc6,Ndf3,Nxe5,Nxe5,Bxe5,dxe5,Qe7,Qh5,Bd5,Bh4,Qc5+,Kh1,Rd7,Rxd5,Qxd5,Qg6,Nc4,Rg1,Ne3,Bf6,Rc1,Rxc1', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/2xP7m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2XPn1', 'Classical', 'khizerkhan', 2011, 'matveevoleg', 1834, 'c4,d6,d4,g6,e4,Bg7,Nf3,Nf6,Bd3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Nc6,d5,Ne5,Qe2,a5,f4,Ned7,Nc3,Nc5,Bd2,Nh5,Rf3,Re8,g4,Nf6,e5,Nfd7,e6,fxe6,dxe6,Nf6,Raf1,c6,f5,gxf5,Rxf5,d5,cxd5,cxd5,Bc2,Qb6,Be3,Qxb2,Nxd5,Nce4,Nxf6+,Bxf6,Rxf6,exf6,Qd3,Rxe6,Bb3,Re8,Qxe4', 'Qxb3,axb3,Rxe4', 'https://lichess.org/training/2XPn1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2XQCm', 'Rapid', 'Tobsen999', 1710, 'Gosha87', 1725, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,d6,Be3,Qf6,c3,Bg4,Nbd2,a6,h3,Bh5,g4,Bg6,Qe2,Na5,O-O-O,Ne7,b4,Nxc4,Nxc4,Nc6,a4,Be7,a5,b5,Ncd2,Qe6,h4,Qa2,h5,Qa3+,Kc2,Bh7', 'Ra1,Qxa1,Rxa1', 'https://lichess.org/training/2XQCm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2xTFc', 'Blitz', 'emanas', 1671, 'SicMundus2020', 2112, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,Nc6,Bg5,Ng4,h3,Nge5,Nxe5,Nxe5,Bb3,h6,Bf4,a6,Nd5,e6,Nc3,b5,Qd2,g5,Be3,Qe7,h4,Ng4,hxg5,Nxe3,Qxe3,hxg5,Rad1,Be5,Ne2,Kg7,Ng3,Bb7,Nh5+,Kg6,Ng3,Rh8,f4,gxf4,Rxf4,Qg5,Qf3,Rh7,Rf1,Rah8', 'Rg4,Bd4+,Rf2,Bxf2+,Kxf2,Qxg4,Qxg4+', 'https://lichess.org/training/2xTFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2XTK8', 'Classical', 'Alokgogoi', 1747, 'Roger017', 1853, 'Nf3,Nf6,g3,d5,Bg2,Nc6,d3,Bg4,O-O,Bxf3,exf3,e5,Nc3,Bd6,Bg5,h6,Bxf6,Qxf6,Nxd5,Qg5,Re1,O-O,a3,Nd4,c3,c6,Ne3,Ne6,Nc4,Bc7,Re2,Rad8,Qd2,Qg6,Rd1,f6,b4,b5,Ne3,a5,Bh3,Ng5,Bg2,a4,h4,Ne6,Bh3,Rfe8,Bf5,Qf7,h5,Ng5,Kg2,Qxh5,Bg4,Qf7,Rh1,Qb3,Ra1,Bb6,Nc2,Rd6,d4,Red8,f4,exf4,Qxf4,Qxc3,Rae1,Kf8,Qxd6+,Rxd6', 'Re8+,Kf7,Bh5+,g6,R1e7#', 'https://lichess.org/training/2XTK8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2xtNe', 'Rapid', 'tirald', 1666, 'Paladin51', 1901, 'e4,c5,g3,Nc6,Bg2,e5,b3,Nge7,Bb2,d6,Ne2,g6,O-O,Bg7,f4,f5,fxe5,Bxe5,Bxe5,dxe5,exf5,Nxf5,Nbc3,O-O,h3,Be6,g4,Nfd4,Ne4,Nxe2+,Qxe2,Nd4,Qd3,Bd5,Nxc5,Bxg2,Rxf8+', 'Qxf8,Kxg2,Qxc5,Qc4+,Qxc4', 'https://lichess.org/training/2xtNe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2XVvK', 'Rapid', 'tha1es', 1859, 'sedric', 1608, 'd4,d5,c4,e6,Nc3,Nf6,f3,Be7,Qc2,Nc6,e3,a6,a3,h6,Bd3,Bd7,Nge2,dxc4,Bxc4,b5,Bd3,Bd6,e4,e5,d5,Ne7,O-O,Ng6,f4,exf4,Nxf4,O-O,Bd2,Bc5+,Kh1,Re8,Rae1,Ne5,Be2,Bg4,b4,Bb6,Nd3,Bh5,Nxe5,Rxe5,Bf4,Bxe2,Rxe2,Re8,e5,Nh5,Qf5,Nxf4,Rxf4,Rf8,h3,Qg5,Qe4,Rae8,Rf5,Qc1+,Re1,Qxc3,Ref1,Qxa3,e6,fxe6', 'Rxf8+,Rxf8,Qxe6+', 'https://lichess.org/training/2XVvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2xVYh', 'Rapid', 'kostea', 1971, 'g3nksu', 2028, 'd4,e6,c4,c5,Nf3,cxd4,Nxd4,Nc6,e3,Nf6,Nc3,d6,b3,Be7,Bb2,e5,Nf3,Bg4,Be2,O-O,h3,Bh5,Nd5,Rc8,O-O,Ne4,Qc2,f5,Nh2,Bg6,f4,Ng3,Rfd1,Qe8,Nf3,exf4,exf4,Bf6,Bxf6,Nxe2+,Kh2,gxf6,Re1,Ned4,Nxf6+,Kf7,Nxe8,Nxc2,Nxd6+,Kg7,Nxc8,Nxa1,Ne7,Nc2,Re2,N2d4,Nxd4,Nxd4,Rd2,Kf7', 'Nxg6,hxg6,Rxd4', 'https://lichess.org/training/2xVYh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2xwRs', 'Rapid', 'hs1', 1854, 'dannyappleseed', 1750, 'd4,d5,c4,c6,Nf3,e6,Nc3,Nf6,Bg5,Nbd7,e3,Be7,Rc1,h6,Bf4,Nh5,c5,Nxf4,exf4,Nf6,a3,Qa5,Bd3,a6,Qc2,Qd8,O-O,Qc7,g3,Bd7,Ne5,Rd8,b4,b5,Ra1,O-O,a4,bxa4,Rxa4,Be8,Rxa6,Qb7,Rfa1,Qxb4,Nxc6,Bxc6,Rxc6,Qxd4,Ne2,Qb4,Rb1,Qa5,Rb5,Qa8,Rc7,Rfe8,Nd4,Rb8,Qb3,Rxb5,Qxb5,Rb8,Qc6', 'Qa1+,Kg2,Qxd4', 'https://lichess.org/training/2xwRs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2xZ4v', 'Blitz', 'v_oliv', 2025, 'MAHOGO', 2110, 'd4,e5,dxe5,Nc6,Nf3,Qe7,a3,Nxe5,Nxe5,Qxe5,g3,Nf6,Bg2,d5,O-O,Be6,Nc3,c6,Bf4,Qh5,Bf3,Bg4,Bxg4,Nxg4,h4,Bc5,Qd3,Ne5,Bxe5,Qxe5,e4,dxe4,Nxe4,O-O,Rae1,Rad8,Nxc5,Qxc5,Qb3,Rd2,Qxb7,Qxc2,Qxa7,Qxb2,Re7,Rd3,a4,Qb4,a5,Ra3,Rd1,Rxa5,Qc7,Rf5,Rdd7,c5,Rd8,g6,Rxf8+,Kxf8,Qd8+,Kg7,Re8,c4,g4,Rf4', 'Rg8+,Kh6,Qg5#', 'https://lichess.org/training/2xZ4v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2xZLy', 'Blitz', 'WFM Jojo08', 2157, 'qwaqwa', 2114, 'd4,e6,c4,f5,Nc3,d6,h3,Nf6,e3,Be7,g4,O-O,g5,Ne4,h4,Nxc3,bxc3,e5,Nh3,f4,exf4,Bxh3,Bxh3,exf4,O-O,Nc6,Be6+,Kh8,Qg4,Qe8,Bxf4,Qg6,h5,Qe4,Be3,Qd3,h6,gxh6,gxh6', 'Rg8,Bxg8,Rxg8', 'https://lichess.org/training/2xZLy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2y55I', 'Rapid', 'Saturn-3', 1861, 'Rolf1001', 1679, 'd4,d5,e4,e6,a3,c5,exd5,cxd4,Qxd4,Qxd5,Be3,Nc6,Qxd5,exd5,Bb5,a6,Ba4,b5,Bb3,Be6,Nf3,f6,Nbd2,Nge7,O-O-O,Nf5,Rhe1,Kd7,g4,Nxe3,fxe3,Na5,Ba2,Bxg4,Bxd5,Rd8,Ba2,Kc7,Rg1,h5,h3,Bxh3,Nd4,Bg4', 'Rxg4,hxg4,Ne6+,Kc8,Nxd8', 'https://lichess.org/training/2y55I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Y8CH', 'Rapid', 'Cuba1975', 1802, 'hosseinkhan01', 1863, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Bb5,Bd7,d4,a6,Bxc6,Bxc6,Ne5,Bb5,Re1,Be7,dxc5,Nf6,Bg5,O-O,c4,Bxc4,Nxc4,dxc4,Nc3,Qxd1,Raxd1,Rad8', 'Rxe7,Rxd1+,Nxd1', 'https://lichess.org/training/2Y8CH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Ybrb', 'Rapid', 'Black_king_1', 1842, 'elprofe', 1868, 'd4,g6,g3,Bg7,Bf4,Nc6,Nf3,d6,e4,Nf6,d5,Nb8,Nc3,Bg4,h3,Bd7,Bg2,c6,O-O,e5,dxe6,Bxe6,e5,Nd5,Nxd5,Bxd5,Rc1,O-O,c4,Bxf3,Qxf3,dxe5,Rfd1,Qf6,Be3,Na6,Rd7,Qxf3,Bxf3,Rfe8,Be4,b6,Bxc6,Rad8,Rxa7,Re6,Bd5,Nb4,Bxe6,fxe6,Bxb6,Re8,a3,Nd3,Rd1,Nxb2,Rdd7,Bf8,Rd8,Rxd8,Bxd8,Nxc4,Bf6,Bc5,Rg7+,Kf8,Rxh7,Nd2,Kg2,Bxa3,f4,exf4,Be5', 'f3+,Kh2,f2', 'https://lichess.org/training/2Ybrb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Yc2D', 'Rapid', 'Antongio', 1750, 'Govindpawar', 1697, 'e4,c5,Bc4,Nc6,a3,g6,d3,Bg7,c3,d6,h3,a6,Nf3,Nf6,O-O,O-O,Bg5,Na5,Bxf6,Bxf6,Ba2,b5,d4,cxd4,cxd4,Nc4,Bxc4,bxc4,e5,Bg7,Nc3,Bb7,Nd2,d5,b3,cxb3,Nxb3,e6,Nc5,Bc6,Rb1,Qa5,N3a4,Bxa4,Qxa4,Qc3,Rfc1,Qd2,Rc2,Qf4,Rb3,Qf5,Rf3,Qg5,Rcc3,Rfb8,Rg3,Rb1+,Kh2,Qf4,Nd3,Qd2,Rb3,Qc2', 'Rb8+,Rbxb8,Qxc2', 'https://lichess.org/training/2Yc2D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Yd8o', 'Classical', 'joelchess', 1774, 'jeffmoignt', 1740, 'd4,d5,Bf4,Nc6,a3,Bf5,Nc3,e6,e3,Bd6,Nf3,Bxf4,exf4,f6,Bb5,Ne7,h3,O-O,Nh4,Be4,f3,Bg6,g4,f5,g5,Na5,Qe2,a6,Bd3,Qd6,Ng2,Rae8,h4,Bh5,O-O-O,Ng6,Qe3,e5,fxe5,Nxe5,dxe5,Rxe5,Qf2,f4,Rde1,d4,Ne2,Re3,Be4,Qc5,Ngxf4,Nb3+,Kd1,d3,Nxd3', 'Rxd3+,Bxd3,Qxf2', 'https://lichess.org/training/2Yd8o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Ydjl', 'Blitz', 'magnifying', 1895, 'Aditya_31', 2045, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qc7,Nf6,Nc3,O-O,Bg5,h6,Nd5,Qd8,Qd6,hxg5,O-O-O,Nxe4,Qa3,Nxf2,Be2,Nxh1,Rxh1,Qa5,Qb3,Nd4', 'Ne7+,Kh7,Qh3#', 'https://lichess.org/training/2Ydjl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2yFfG', 'Rapid', 'Falcon900EX', 2069, 'piettheboy', 2176, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Qf6,Bxd5+,Ke7,Bxc6,bxc6,Qxf6+,gxf6,Nc3,Rg8,g3,Bh3,d3,f5,Be3,Ke6,a3,Rb8,O-O-O,a6,f4,Bd6,Rhe1,Bg4,Rd2,exf4,Bxf4+,Kd7,Bxd6,cxd6,h3,Bh5,g4,fxg4,Ne4,Rbf8,hxg4,Rxg4,Rf2', 'Rxe4,Rxe4,Rxf2', 'https://lichess.org/training/2yFfG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2YfJU', 'Rapid', 'K_karimi1331', 1790, 'jutay', 1769, 'e4,e5,Bc4,Bc5,Nc3,Nf6,d3,h6,Nf3,d6,O-O,Bg4,Be3,Nc6,Nd5,Nxd5,Bxd5,Nd4,Bxd4,Bxd4,c3,Bb6,Bb3,Qf6,Re1,O-O-O,Qe2,h5,Bd1,h4,h3,Bh5,Qd2,Bxf3,Bxf3,g5,Bg4+,Kb8,Bf5,Rdg8,Qe2,c6,c4,d5,cxd5,cxd5,Rac1,dxe4,dxe4,Bd4,b3,Qb6,Rc4,Rd8,Rec1,a6,Qd2,f6,Rb4', 'Bxf2+,Qxf2,Qxb4', 'https://lichess.org/training/2YfJU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2yK30', 'Rapid', 'slavKO91', 1671, 'Fedor2016', 1669, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Nf6,d4,d6,Bg5,Be7,dxe5,dxe5,Na3,h6,Bxf6,Bxf6,O-O,O-O,Rad1,Qe7,Nb5,Be6,Bxe6,fxe6,c4,Qc5,b3,Bh4,Qe3', 'Bxf2+,Qxf2,Rxf2', 'https://lichess.org/training/2yK30');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2YkFh', 'Blitz', 'eysan_tezcan', 1598, 'Chris63', 1549, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,e5,Be6,exd6,cxd6,Be2,Nf6,O-O,Be7,Nc3,O-O,h3,Re8,Re1,Qc7,Bf3,Rad8,a4,a6,b4,d5,b5,axb5,axb5,cxb5,Nxb5,Qb6,Nd4,Bc5,Be3,Ne4,Rb1,Qd6,Bxe4,dxe4,Nxe6,Qxe6,Qg4,Bxe3,Qxe6,Bxf2+,Kxf2,Rxe6,Red1,e3+,Ke2,Rxd1', 'Rb8+,Rd8,Rxd8+,Re8,Rxe8#', 'https://lichess.org/training/2YkFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ylOy', 'Classical', 'NohatCoder', 1679, 'Vantoz', 1611, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,cxd5,Nxd5,Bc4,c6,Nf3,Be7,O-O,O-O,Nc3,Be6,Re1', 'Nxc3,bxc3,Bxc4', 'https://lichess.org/training/2ylOy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2yMCD', 'Classical', 'adonfokza', 1766, 'Palych', 1846, 'd4,d5,c4,e6,Nc3,dxc4,e4,a6,Bxc4,c6,Nf3,b5,Bd3,Bb7,O-O,Nf6,Re1,Be7,Qc2,g6,Bh6,Ng4,Bg7,Rg8,Be5,Nxe5,Nxe5,Nd7,Ng4,h5,Ne3,Qb6,d5,exd5,exd5,O-O-O,dxc6,Qxc6,Ncd5,Bc5,b4,Bxe3', 'Ne7+,Kc7,Nxc6', 'https://lichess.org/training/2yMCD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Ymv2', 'Rapid', 'ericlorraine', 2190, 'Kayrosas', 2203, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,d5,O-O,Be7,Nc3,O-O,b3,Nbd7,Bb2,Re8,Rc1,Rc8,Re1,Nf8,Ne5,Ng6,Nxg6,hxg6,e4,Bb4,e5,Ne4,Qe2,Nxc3,Bxc3,Bxc3,Rxc3,Ba6,Qe3,c5,dxc5', 'd4,Qc1,dxc3', 'https://lichess.org/training/2Ymv2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2yocM', 'Rapid', 'Wahyu19147', 1790, 'aviyash', 1773, 'd4,e5,dxe5,Nc6,Nf3,Qe7,a3,Nxe5,Nxe5,Qxe5,h3,Bc5,e3,Nf6,Nc3,Ne4,Bd2,Bxe3,fxe3,Qg3+,Ke2,b6,Nxe4', 'Ba6+,c4,Bxc4#', 'https://lichess.org/training/2yocM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2YpHf', 'Blitz', 'boschua', 1956, 'gursukguven', 1950, 'e4,e5,f4,exf4,Nf3,c6,d4,Bd6,e5,Bb4+,c3,Ba5,Bxf4,Ne7,Bd3,O-O,Qc2,g6,Nbd2,b5,O-O-O,Nd5,Bh6,g5,Bxg5,f6,Bxh7+,Kg7,Qg6+,Kh8,Bxf6+,Nxf6,exf6,Rxf6,Qd3,Ba6,Rdf1,b4,c4,d5,Ng5,dxc4,Nxc4,Rxf1+,Rxf1,Qxg5+,Kb1,Bxc4,Rf8+,Kg7,Rg8+,Kh6,Qh3+,Qh5', 'Rg6+,Kxh7,Qxh5#', 'https://lichess.org/training/2YpHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ypIq', 'Blitz', 'hrjoglar', 1639, 'VALPOGI', 1649, 'e4,c5,Nf3,Nc6,d4,e6,d5,e5,Bb5,Nce7,Nc3,a6,Bc4,d6,O-O,Ng6,Bg5,Nf6,Nh4,Be7,Nxg6,hxg6,Qf3,Bg4,Qg3,Qd7,Be2,Nh5,Bxg4,Nxg3,Bxd7+,Kxd7,fxg3,Bxg5,Rxf7+,Ke8,Rxg7,Be3+,Kh1,g5,Re1,Bd4,Rxg5,Kf7,Na4', 'Rxh2+,Kxh2,Rh8+,Rh5,Rxh5#', 'https://lichess.org/training/2ypIq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Yquv', 'Rapid', 'WES2015', 2106, 'falero11', 1921, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,Nf3,Nc6,d4,e6,e3,Bd6,Be2,O-O,O-O,Qf6,Ne4,Qh6,Nxd6,cxd6,Bd2,Qf6,Qc2,e5,dxe5,Nxe5,Nxe5,Qxe5,Qb3,Be6,Bc4,Nf6,Bc3,Qg5,Bxe6,fxe6,Qxe6+,Kh8,Qxd6,Ne4,Qe5,Qg6,Bd4,a6,Rad1,Rae8,Qc7,Rf7,Qc4,Qf5,Qe2,Qg6,Rc1,Ng5,Rc5,Qh6,Qf3,Nxf3+,gxf3,Rxf3,Rc7,Qg5+,Kh1,Rg8,Rg1,Qh6,Rgxg7,Rxg7', 'Rc8+,Rf8,Rxf8#', 'https://lichess.org/training/2Yquv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2YRoJ', 'Rapid', 'ferleal101010', 1712, 'kkgamer', 1722, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,h6,Bh4,b6,e3,Bb7,Qc2,a6,Nf3,c5,b3,cxd4,exd4,dxc4,bxc4,Bxf3,Bxf6,Qxf6,gxf3,Qxf3,Rg1,Bb4,Rc1,Nc6,Bg2,Nxd4,Qd2,Rd8,Qxd4,Bxc3+,Qxc3', 'Rd1+,Rxd1,Qxc3+', 'https://lichess.org/training/2YRoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2yrW1', 'Rapid', 'PAVELA', 1948, 'Lustopad', 1877, 'e4,e5,Bc4,Nf6,Nf3,Nc6,d3,h6,Nc3,a6,a4,Bc5,Be3,Bb4,Qd2,d6,O-O,Bg4,Qe2,Nd4,Bxd4,exd4,Nd5,Bxf3,Qxf3,Nxd5,Bxd5,O-O,Bxb7,Ra7,Bd5,a5,Rac1,Qd7,c3,dxc3,bxc3,Ba3,Bb3,Bxc1,Rxc1,c5,d4,Rb7,Bd1,cxd4,cxd4,Rb4,Qc3,Qa7,d5,Rxe4,Bc2,Rd4,Qe3,f5,Qe6+,Qf7,Qe3,Qxd5', 'Bb3,Qxb3,Qxb3+', 'https://lichess.org/training/2yrW1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2YuAR', 'Rapid', 'pianoimprov', 1849, 'beklem', 1867, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,c3,Bd7,d4,exd4,cxd4,Bb6,d5,Ne5,Bxd7+,Nxd7,Bf4,Ne7,e5,dxe5,Nxe5,Nxe5,Bxe5,O-O,Qg4,Ng6,Bg3,Qxd5,Nc3,Qd2,Rfd1,Qxb2,Nd5,c6,Nxb6,axb6,Rab1,Qxa2,Rxb6,f5,Qd4,Qf7,Rdb1,Rfd8,Bd6,Qe6,Rxb7,Rxd6', 'Qxg7#', 'https://lichess.org/training/2YuAR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2yv0y', 'Rapid', 'wQf7', 1973, 'king-Immortal', 1829, 'g4,e5,Bg2,Nf6,g5,Ng8,d4,exd4,Qxd4,Nc6,Qa4,Bb4+,Kf1,Nge7,c3,Bc5,b4,Bb6,Nf3,O-O,c4,d6,Bb2,Nf5,Nbd2,Bd7,b5,Ncd4,e3,Nxf3,Nxf3,Re8,h4,a6,Qb3,axb5,cxb5,Qe7,a4,Rab8,Qc3,d5,Bh3,d4,exd4,Qe2+,Kg2,Ne3+,Kg3,Bxh3,Rxh3,Nd5,Qd2,Qe6,Re1,Qd6+,Ne5,f6,gxf6,gxf6,Kg2,fxe5,dxe5,Qe6,Rg3+,Kh8,f4,Rg8,Rf1,Rxg3+,Kxg3,Rg8+,Kh2,Qg4,e6+,Rg7,Bxg7+,Kxg7,Qg2', 'Qxg2+,Kxg2,Ne3+,Kf2,Nxf1+', 'https://lichess.org/training/2yv0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2yvNN', 'Blitz', 'HIPOSTASIS', 1882, 'Aleksandar888', 1865, 'e4,e5,Nf3,g6,Nxe5,Qe7,d4,Bg7,f4,d6,Nf3,Qxe4+,Be2,Nf6,O-O,O-O,Re1,Nd5,Bc4,Qf5,Bxd5,Qxd5,Nc3,Qc6,d5,Qb6+,Be3,Qxb2,Bd4,Bxd4+,Qxd4,Qxc2,Ne4,Nd7,h4,f5,Neg5,Qc5,Re7,Qxd4+,Nxd4,Nf6,Nde6,Re8', 'Rg7+,Kh8,Nf7#', 'https://lichess.org/training/2yvNN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2YYQ1', 'Blitz', 'shidiraachi', 2229, 'chessy636', 2114, 'e4,c5,Nf3,e6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,exd6,Bxd6,Nc3,Nxc3,bxc3,Qc7,Bb2,b6,Bd3,Bb7,O-O,Nc6,h3,Na5,Rc1,Nc4', 'Qa4+,Bc6,Qxc4,b5,Qb3', 'https://lichess.org/training/2YYQ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2yYtG', 'Blitz', 'Youaremate', 2314, 'RMA007', 2162, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bg4,c4,Nf6,Be2,e6,Qb3,b6,Nc3,Be7,O-O,Nbd7,Be3,O-O,Rfd1,a5,Rac1,Bf5,Ne5,Qe8,Bd3,Nxe5,dxe5,Ng4,Bf4,Bc5,Bg3,Qe7,h3,Bxd3,Rxd3,Nh6,Ne4,Nf5,Bf4,Nh4,Rcd1,Rfd8,Rxd8+,Rxd8,Rxd8+,Qxd8,Nxc5,bxc5,Be3,h6,Qc3,Qd1+,Kh2,Qf1,Kg3,Qxg2+,Kxh4', 'g5+,Bxg5,Qxg5#', 'https://lichess.org/training/2yYtG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2yytP', 'Rapid', 'Shrink313', 1764, 'Yaroslav777', 1798, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb4+,Bd2,Qe7,O-O,Nf6,Ng5,O-O,e5,Ne8,Qh5,h6,Be3,hxg5', 'Bxg5,d5,Bxe7', 'https://lichess.org/training/2yytP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2z0pm', 'Blitz', 'quantenmecha', 1814, 'masbarno', 1843, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,c4,b3,b5,a4,Bd7,axb5,Bxb5,bxc4,dxc4,Na3,Bxa3,Bxa3,Ne7,Qe2,Nc6,Qb2,a6,Be2,O-O,O-O,Qd5,Rfe1,Rfb8,Qc2,Ng6,Bf1,Na5,Ne5,Nb3,Rad1,Re8,Nxg6,fxg6,g3,Bc6,f3,Qxf3,Bg2,Qf6,Rf1,Qe6,Rde1,Qd7,Bxc6,Qxc6,Qf2,Qd5', 'Rxe8+,Rxe8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/2z0pm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2z1R0', 'Classical', 'nko72', 1936, 'arhdv', 2021, 'd4,f5,e4,fxe4,Nc3,Nf6,Bg5,Nc6,f3,e5,dxe5,Nxe5,Nxe4,Be7,Qd4,d6,O-O-O,Be6,Kb1,O-O,Ne2,Nxe4,Bxe7,Qxe7,Qxe4,Qf7,a3,Nc6,Nc3,Rae8,Qh4,Ne5,Ne4,Ng6,Qg3,Bf5,Bd3,Ne5,Ng5,Qg6,Bxf5,Qxf5,h4,Nc4,f4,Qb5,Qc3,Re3,Rd3,Re2,g3,Rfe8,Nf3,Ne3,Nd4,Qd5,Nxe2,Qxh1+,Ka2,Ng4,Qxc7,Rxe2,Qc4+,Kf8,Rxd6,Nf6,Rd8+,Re8,Qc5+,Kf7,Qc7+,Kg6,Rxe8,Nxe8,f5+,Kh6', 'Qf4+,Kh5,Qg5#', 'https://lichess.org/training/2z1R0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Z3g6', 'Rapid', 'sina818', 2174, 'MrJimi', 2116, 'd4,d6,c3,g6,f4,Bg7,Nf3,Nd7,e3,e5,fxe5,dxe5,Bc4,e4,Nfd2,Ndf6,O-O,Bg4,Qb3,Qd7,Qxb7,Rc8,Nxe4,Bf5,Nc5,Qe7,Qxc8+,Bxc8,e4,Nh6,e5,Nd7,Bxh6,Bxh6,Bxf7+,Kd8', 'Ne6+,Qxe6,Bxe6', 'https://lichess.org/training/2Z3g6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2z7GM', 'Rapid', 'zuckertort2', 1674, 'xaniageo', 1723, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,c4,Bg4,Nc3,e6,Be2,Bb4,h3,Bh5,Ne5,Bxe2,Qxe2,O-O,O-O,Nc6,cxd5,Nxd5,Nxc6,Nxc3', 'bxc3,bxc6,cxb4', 'https://lichess.org/training/2z7GM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2z7oe', 'Rapid', 'Evgenik1984', 2081, 'DimoTerziev', 2114, 'e4,e6,d4,d5,Nd2,c5,e5,Nc6,Bb5,Bd7,Bxc6,Bxc6,c3,Qb6,Ne2,Ne7,f4,Nf5,Nf3,h5,O-O,Be7,a4,cxd4,cxd4,Qc7,Bd2,b6,b4,Bb7,Qb3,O-O,Ng5,Ba6,b5,Bb7,Rac1,Qd7,Qh3,h4,Be1,Rac8,Bxh4,Nxh4,Qxh4,Bxg5,Qxg5,a6,Ng3,g6,Nh5,Qd8,Nf6+,Kg7,h4,Rh8,h5,Rc4,Rxc4,dxc4,f5,exf5,Rxf5,Qxd4+,Rf2,Qd1+,Kh2,Rxh5+', 'Nxh5+,Qxh5+,Qxh5', 'https://lichess.org/training/2z7oe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2z8CW', 'Rapid', 'kleptomanchess', 1830, 'Almaz1111111', 1872, 'e4,e5,f4,d6,fxe5,dxe5,Nf3,Bg4,Bc4,Nc6,O-O,f6,c3,Bc5+,Kh1,Nge7,b4,Bb6,a4,a6,b5,axb5,Bxb5,O-O,Qb3+,Kh8,d4,Bxf3,Rxf3,exd4,Bb2,dxc3,Nxc3,Nd4,Qd1,Nxf3,gxf3,c6,Bc4,Ng6,Ne2,Ne5,Bb3,Nxf3,Nf4,Qxd1+,Rxd1,Rfd8,Kg2,Nh4+,Kg3,Ng6,Nxg6+,hxg6,Rf1,Rd3+,Rf3,Rxf3+,Kxf3,Rd8,Bf7,g5,Kg4,Rd2,Bc3,Rxh2,Kf5,Rf2+,Kg6,Bc7,Bd4,Ra2,Bxa2,b6,Bc4,c5,Bc3,g4,Bf1,g3,Bg2,Be5,Bxe5', 'fxe5,Bf1,c4', 'https://lichess.org/training/2z8CW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Z988', 'Rapid', 'Ira_Jed', 1666, 'Julmero', 1703, 'd4,Nf6,c4,c5,Nc3,cxd4,Nb5,e5,Nf3,a6,Qa4,Nc6,e4,Qa5+', 'Qxa5,Nxa5,Nc7+,Kd8,Nxa8', 'https://lichess.org/training/2Z988');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zCCr', 'Rapid', 'ifanmich', 1877, 'asdAzzam', 1922, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,O-O,Rc1,d5,e3,Be6,cxd5,Nxd5,Nxd5,Bxd5,Bxc7,Qd7,b3,Nc6,Bg3,Rac8,Nf3,Nb4,Rxc8,Rxc8,Bd3,Nxd3+,Qxd3,Rc1+,Kd2,Rxh1,Ne5,Qc7,Nc4,Bxg2,Bxc7,Bf3,Nb2,Ra1,e4,Bh6+,Kc3,Rc1+,Kb4,Rxc7,Qxf3,Bd2+,Ka3,Bc1,Qe2,Rc6,Kb4,a5+,Kb5,Rd6,Qc4,Bxb2,d5,f5,Qc8+,Kf7,Qxb7,fxe4,Kxa5,Bd4,Ka4,Bxf2,Qb5,Kf6,Qc4,Ke5,Qe2,e3,b4,Kxd5,Kb5,Ke4,a4,h5,a5,Rd5+,Kc6,Rd2,Qc4+,Kf3,Qf7+,Ke2,Qxg6', 'Rd6+,Qxd6,exd6', 'https://lichess.org/training/2zCCr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Zcob', 'Rapid', 'PeppaPrada', 1863, 'DamianCalaprice', 1703, 'Nf3,Nf6,d4,g6,Nc3,Bg7,d5,O-O,e4,c6,Be3,cxd5,exd5,Qa5,Bd4,Nxd5', 'Bxg7,Kxg7,Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/2Zcob');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zdJE', 'Rapid', 'ChessKingOwen', 2094, 'kis1946', 2207, 'd4,Nf6,Bf4,c5,e3,cxd4,exd4,g6,Nf3,Bg7,Bc4,O-O,O-O,d5,Be2,Ne4,Nbd2,Nc6,c3,f5,a4,h6,h3,g5,Bh2,f4,Bd3,Bf5,h4,g4,Ne1,e5,Bxe4,dxe4,g3,exd4,Qb3+,Rf7,Rd1,f3,Nc4,Qf6,Nc2,Rd8,cxd4,Nxd4,Nxd4,Rxd4,Rxd4,Qxd4,Rd1,Qf6,Nd6,Be6,Qc2,e3,Nxf7,exf2+,Kxf2,Bxf7,Bg1,Qb6+,Kf1,Qb4,Rd8+,Bf8,Bc5', 'Bc4+,Kg1,Qxc5+', 'https://lichess.org/training/2zdJE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zF0Y', 'Classical', 'EmptySet2', 2018, 'rorypawnaghertopic', 2044, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Ng4,cxd4,Bb4+,Nc3,d5,Bb5,f6,h3,fxe5,hxg4,Bxg4,dxe5,d4,Qxd4,Bxf3,Qxd8+,Kxd8,gxf3,Nxe5,Bg5+,Kc8,f4,Nf3+,Ke2,Nd4+,Kd3,Bxc3,Bc4,Bxb2,Rab1,b5,Rxb2,bxc4+,Kxd4,h6,Be7,Re8,Bc5,Kd7,Rh3,Kc6,Ba3,Rad8+,Kxc4,Re4+,Kc3,Rxf4,Rd3', 'Rxd3+,Kxd3,Rf3+,Ke4,Rxa3', 'https://lichess.org/training/2zF0Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zfPw', 'Classical', 'azad-gh', 1953, 'S19T65', 2053, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,d6,Nbd2,Be6,Bb3,Qd7,c3,Ng4,Bh4,Bxb3,axb3,f5,O-O,f4,d4,exd4,cxd4,Nxd4,Nxd4,Bxd4,Nc4,Bc5,Qd5,h6,Qh5+,Kf8,Rfe1,g5,Bxg5,Kg7,Bh4,Rae8,h3,Ne5,Nxe5,Rxe5,Qf3,Rf8,Rad1,c6,Rd3,Qf7,Kh2,Rh5,e5,Rxh4,exd6,Kh8,d7,Bb6,Qe4,Bd8,Qe8,Rh5', 'Qxf7,Rxf7,Re8+,Kh7,Rxd8', 'https://lichess.org/training/2zfPw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zgNU', 'Rapid', 'ardbano', 1614, 'Umpolung', 1818, 'e3,c5,b3,Nf6,Bb2,e6,Nc3,d5,Bb5+,Bd7,Bxd7+,Qxd7,Qf3,Be7,O-O-O,O-O,Kb1,Nc6,d3,Nb4,g4,a5,a4,e5,g5,d4,gxf6,dxc3,fxe7,cxb2,exf8=Q+,Rxf8,Kxb2,f5,Nh3,e4,dxe4,Qe6,exf5,Qe5+,Ka3,Nxc2+,Ka2,Nb4+,Kb1,Qc3,Qe2,Qxb3+,Qb2,Qxa4,e4,Qc6,f3,c4,Rc1,b5,Nf4,Qd6,Nd5,Nd3,Qxb5', 'Rb8,Rxc4,Rxb5+', 'https://lichess.org/training/2zgNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ZGrg', 'Rapid', 'ClaireR', 1652, 'Abhishek95', 1684, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,d5,exd5,Nxd5,Qxd4,Be6,O-O,Nc6,Qe4,Qd7,Rd1,O-O-O,Nc3', 'Nxc3,Rxd7,Nxe4', 'https://lichess.org/training/2ZGrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ZHYc', 'Classical', 'mrNeither', 1645, 'demi-sec', 1620, 'e4,c5,Nf3,d6,Bc4,Nf6,Ng5,e6,Bb5+,Nbd7,Bxd7+,Bxd7,d3,g6,Nc3,Bg7,Bd2,O-O,Qf3,Bc6,Nh3,d5,Bg5,dxe4,dxe4,Qd6', 'Bxf6,Bxf6,Qxf6', 'https://lichess.org/training/2ZHYc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zMHZ', 'Blitz', 'CM GustavRookgren', 2488, 'Vasilij91', 2167, 'e4,c6,d4,d5,e5,c5,dxc5,Nc6,Nf3,Bg4,Bb5,e6,O-O,Bxc5,Bxc6+,bxc6,Nc3,Ne7,Na4,Bb6,h3,Bxf3,Qxf3,Ng6,Nxb6,axb6,Qe2,O-O,a4,Qc7,f4,Ra7,Be3,c5,g4,d4,Bd2,Ne7,f5,exf5,gxf5,f6,Rae1,fxe5,Qxe5,Qxe5,Rxe5,Nc6,Re6,Rf6,Bg5,Rxe6,fxe6,h6,Bh4,g5,Bg3,Re7,Re1,Nd8,Bc7,Rxe6', 'Rxe6,Nxe6,Bxb6,d3,cxd3', 'https://lichess.org/training/2zMHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zMyV', 'Rapid', 'MrSLeeP', 1526, 'Schnapa69', 1904, 'd4,Nf6,c4,d5,Bg5,Nbd7,e3,Ne4,Bf4,g5,Bg3,Nxg3,hxg3,Nf6,Nc3,e6,c5,Bd7,Bb5,c6,Ba4,b5,cxb6,axb6,Bb3,Bb4,Ne2,Ne4,Bc2,Nxc3,Nxc3,Qf6,Qe2,h6,O-O-O,Bxc3,bxc3,c5,Kd2,Rxa2,Ke1,Ba4', 'Bxa4+,Rxa4,Qb5+,Kf8,Qxa4', 'https://lichess.org/training/2zMyV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zOfS', 'Rapid', 'Jery013', 1837, 'Dulle5', 1879, 'd4,Nf6,Bf4,e6,Nf3,c5,c3,Nc6,Nbd2,cxd4,cxd4,Bb4,a3,Ba5,b4,Bb6,e3,d6,Bb5,Nh5,Bg3,O-O,O-O,Nxg3,fxg3,a6,Bd3,e5,d5,Bxe3+,Kh1,Ne7,Qb3,f5,Be2,b5,Qxe3,Nxd5,Qg5,Nf6,Nb3,Qb6,Rac1,Ne4,Qe7,Ra7,Qh4,Nf2+,Rxf2,Qxf2,Bd3,Raf7', 'Ng5,h6,Nxf7', 'https://lichess.org/training/2zOfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zOwU', 'Classical', 'RajTanna', 1827, 'Magic_Skill', 1781, 'd4,Nf6,Bf4,e6,Nf3,c5,e3,Qb6,Qc1,cxd4,exd4,Nc6,c3,Be7,Nbd2,a6,Nc4,Qa7,Bd6,b5,Bxe7,Kxe7,Nce5,h6,Bd3,Bb7,O-O,Rac8,Qe3,Qb8,Rae1,Nxe5,Nxe5,Nd5,Qg3,Rhg8,f4,Rcf8,f5,Ke8,fxe6,dxe6,Qg4,Nf6,Qh3,Bd5,c4,bxc4,Bxc4,Bxc4,Nxc4,Qd8,Rxe6+,fxe6', 'Qxe6+,Qe7,Nd6+,Kd8,Qc8#', 'https://lichess.org/training/2zOwU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Zpp0', 'Blitz', 'D0Pamine', 1966, 'phantom9', 1870, 'd4,Nf6,c4,e6,Nc3,Bb4,Qb3,Bxc3+,Qxc3,Ne4,Qc2,f5,Nf3,b6,Bf4,Bb7,e3,O-O,Bd3,d6,O-O,Nd7,Rac1,h5,b4,g5,Bxe4,Bxe4,Bxg5,Qe8,Qd1,Qg6,h4,Rf7,Qe2,Nf8,Nd2,Nh7,f4,Bb7,Nf3,Re8,c5,Bd5,a4,Nf6,Bxf6,Rxf6,Ng5,e5,cxd6,cxd6,dxe5,dxe5,fxe5,Rxe5,Rc8+,Re8,Rfc1,Rff8,R8c7,f4,e4,Bxe4,Qc4+,Kh8,Re1,Bd3,Qd4+,Kg8,Qd5+,Kh8,Rxe8,Rxe8,Nf7+,Kh7,Ne5+,Qg7,Qxd3+,Kh8,Nf7+,Kg8,Qd5', 'Re1+,Kf2,Qg3#', 'https://lichess.org/training/2Zpp0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zqi2', 'Rapid', 'vodanhtu2k42', 2004, 'mrdoubleblunder', 1911, 'd4,c6,c4,d5,e3,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,Nf6,Nf3,Bd6,b3,Nbd7,c5,Bc7,O-O,O-O,Ne1,e5,dxe5,Nxe5,Qf5,Qd7,Qxd7,Nexd7,Bb2,Nxc5,Ba3,b6,Na4,Bd6,Nxc5,Bxc5,Bxc5,bxc5,Rc1,Nd7,Nd3,a5,Nxc5,Nxc5,Rxc5,Rfc8,Rfc1,Ra6,Rxd5,g6,Rd4,Kf8,Kf1,Ke7,Ke2,Ke6,Kd3,f5,h3,c5,Rdc4,Kd5,f3,Rac6,a3,R8c7,g4,h5,gxh5,gxh5,Rh4,Rh7,Rf4,Rf7,Rcc4,Rd6,Ke2,Re6,Kf2,Rb6,Ra4,Ra6,b4,cxb4,axb4,Rc6,Rxa5+,Ke6,b5,Rc2+,Kg3,Rb2,Ra6+,Ke5,Rb6,Rb3,Rh6,Rxe3,b6', 'Rg7+,Kh4,Kxf4', 'https://lichess.org/training/2zqi2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zRnE', 'Rapid', 'yura_kudr', 1755, 'mittel', 1760, 'e4,e5,d3,c6,Nf3,d6,c3,Bg4,Nbd2,h6,h3,Bh5,g4,Bg6,Nh4,Bh7,Nhf3,Nf6,Be2,Nbd7,a3,d5,Bf1,Bc5,b4,Bb6,Bg2,O-O,Qe2,c5,O-O,d4,c4,a5,b5,Bc7,Nh2,Bg6,Ndf3,Nh7,Bd2,b6,g5,hxg5,Ng4,f5,Ngh2,Rf7,Ne1,Qe7', 'exf5,Bxf5,Bxa8', 'https://lichess.org/training/2zRnE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2ZtM4', 'Rapid', 'GaeLL', 2080, 'Dua_alim', 1955, 'e4,e6,f4,d5,exd5,exd5,d4,c5,Nf3,Nc6,Bb5,f6,Bxc6+,bxc6,O-O,Be7,c3,Nh6,Nh4,O-O,f5,Nf7,Ng6,hxg6,fxg6,Nh8,Qh5,Nxg6,Qxg6,cxd4,cxd4,Qb6,Rf4,Be6,Rh4,Bd6,Nc3,Be5,Bh6,Bxd4+,Kh1,Rf7,Bf4,Rd8,Re1,Be5,Bxe5,fxe5,Qxe6', 'Qf2,Rg1,Qxh4', 'https://lichess.org/training/2ZtM4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zUU4', 'Rapid', 'Dieren', 1774, 'JariIkonen', 1874, 'e4,e5,Bc4,Bc5,Nf3,Nc6,c3,Nf6,d3,d6,O-O,h6,a4,a6,h3,Be6,Nbd2,O-O,Bb3,d5,exd5,Bxd5,Bxd5,Nxd5,Ne4,Bd6,Nh2,Nf6,Nxf6+,Qxf6,Ng4,Qg6,Re1,b6,Qf3,f5,Nxh6+,gxh6,Qxc6,e4,dxe4', 'Bh2+,Kxh2,Qxc6', 'https://lichess.org/training/2zUU4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2Zy2Y', 'Blitz', 'Niu-M', 1587, 'shemeerte123', 1656, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bf5,Bc4,Nc6,O-O,e6,d3,Bb4,Bd2,Nf6,Re1,O-O,a3,Bxc3,Bxc3,Nd5,Bxd5,exd5,d4,Bg6,Ne5,Qd6,Nxg6,Qxg6,Re3,f5,Rg3,Qe6,Qf3,Rae8,h3,Qe4,Qh5,Ne7,Re1,Qxc2,Qh6,Ng6,Rxg6,hxg6,Qxg6,Rxe1+,Bxe1,Qd1,Qe6+,Kh8,Kh2,Qxd4,Bc3,Qxf2', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/2Zy2Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zYsd', 'Classical', 'vinoth64vino', 1647, 'Dusanjh', 1643, 'd4,c6,c4,d5,cxd5,cxd5,Bf4,Nf6,e3,g6,Nc3,Qa5,Nf3,Bg7,Bb5+,Nc6,Ne5,Ne4', 'Nxc6,bxc6,Bxc6+,Bd7,Bxa8', 'https://lichess.org/training/2zYsd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zzjC', 'Rapid', 'Pantherauncia', 1692, 'Glavatar', 1667, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,g6,e4,Nb6,Be2,Bg7,Be3,O-O,O-O,Bg4,Qd2,Bxf3,Bxf3,Nc6,d5,Ne5,Be2,Re8,Bd4,Nec4,Qc3,e5,Bxc4,exd4,Qd3,Nxc4,Qxc4,Rxe4,Nd2,Re5,Nf3,Rxd5,Rad1,c5,h4,a6,Ng5,b5,Qd3,c4,Qe4,d3,f4,Bxb2,f5,Qb6+,Kh1,Rad8,fxg6,hxg6,Nxf7,Rf5', 'Nh6+,Kf8,Nxf5', 'https://lichess.org/training/2zzjC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('2zZZS', 'Blitz', 'kingbreaker', 1955, 'Beethoven9th', 1994, 'd4,d5,e3,Nf6,Bd3,Bg4,f3,Bh5,Nd2,e6,Ne2,Bg6,O-O,Bd6,Nf4,Bxf4,exf4,O-O,Qe2,Nbd7,c3,c5,Bxg6,hxg6,Nb3,Qc7,dxc5,Nxc5,Nd4,a6,g4,Nfd7,g5,b5,a3,Nb6,h4,Nc4,Rf2,Nd6,Rh2,Nf5,h5,Nxd4,cxd4,Nb3,hxg6,Nxa1', 'Rh8+,Kxh8,Qh2+,Kg8,Qh7#', 'https://lichess.org/training/2zZZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('30ai0', 'Rapid', 'bobsab3310', 1662, 'Mejasi', 1606, 'e4,b6,d4,Bb7,d5,Nf6,f3,Qc8,g4,c6,Bh3,cxd5,g5,Ng8,exd5,Qc5,Nc3,e6,dxe6,dxe6,Bf4,Nd7,Qd2,Rd8,O-O-O,Be7,Ne4,Bxe4,fxe4,g6,Nf3,Qc6,Ne5,Nxe5,Qe3,Rxd1+,Rxd1,Nc4,Qd4,f6,gxf6,Bxf6,Be5,Bxe5', 'Qd8+,Kf7,Rd7+,Qxd7,Qxd7+', 'https://lichess.org/training/30ai0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('30dRw', 'Rapid', 'arion11', 1883, 'mkonst', 2037, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,e6,Bg5,h6,Bh4,dxc4,e3,g5,Nxg5,hxg5,Bxg5,b5,a4,Bd7,Qf3,Be7,axb5,Nd5,Bxe7,Qxe7,Bxc4,Qb4,Bxd5,cxd5,O-O,Bxb5,Nxd5,exd5,Qxd5,Bc6', 'Qe5+,Qe7,Qxh8+', 'https://lichess.org/training/30dRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('30Fn4', 'Rapid', 'salinastal', 2061, 'mohsen141', 1792, 'd4,d5,Nf3,Bf5,c4,e6,Nc3,c6,Bf4,Bd6,Bxd6,Qxd6,Qb3,Qc7,e3,Nd7,cxd5,exd5,Rc1,Ngf6,Nxd5,Nxd5,Qxd5,Be6,Qg5,O-O,Bd3,f6,Qh5,g6,Qh6,Qa5+,Nd2,Rf7,h4,Qxa2,O-O,Qxb2,Ne4,Qa3,h5,Qxd3,hxg6,hxg6,Qxg6+,Rg7', 'Nxf6+,Nxf6,Qxd3', 'https://lichess.org/training/30Fn4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('30kkB', 'Rapid', 'order523', 1740, 'rudyartuz', 1743, 'e4,Nc6,Bc4,e6,Nf3,d5,exd5,exd5,Bb3,Bg4,d3,Bb4+,Bd2,Qe7+,Qe2,Qxe2+,Kxe2,Bxf3+,gxf3,O-O-O,Bxb4,Nxb4,Kd2,c5,a3,Nc6,Kc1,Nf6,Nd2,Rhe8,Rf1,Re2,Kd1,Rde8,c3,Kc7,Kc2,b5,Rad1,a5,Kb1,b4,axb4,axb4,cxb4,Nxb4,Ba4,R8e7,Nb3,Kb6,d4,c4,Nc5,Nd3,Nxd3,cxd3,Rxd3,Ka5,Bb3,Rb7,Kc1,Nh5,Bd1,Rexb2', 'Ra3+,Kb5,Kxb2', 'https://lichess.org/training/30kkB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('30kpB', 'Rapid', 'Shubhankar99', 1877, 'Nowy-Targ', 1849, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,e6,Bb5+,Bd7,Qe2,Nf6,d4,Be7,Ne5,a6,Nxd7,Nbxd7,Ba4,O-O,Bg5,Nb6,Bb3,Qxd4,Rd1,Qg4', 'Qxg4,Nxg4,Bxe7', 'https://lichess.org/training/30kpB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('30L5g', 'Rapid', 'Pandeia', 1911, 'KlWl', 1911, 'e4,e6,Nf3,c6,d4,Be7,a4,b6,Bc4,Na6,Nc3,Nc7,O-O,g5,Be3,g4,Nd2,h5,d5,cxd5,exd5,e5,Nde4,d6,Nb5,Bf5,Ng3,Nxb5,Nxf5,Nc7,Ng7+,Kf8,Nf5,Qd7,Nxe7,Nxe7,Qd2,Kg7,Bg5,f6,Be3,e4,Bd4,Qf5,Bc3,Nexd5,Rad1,Nxc3,bxc3,Rhd8,Rfe1,Rd7,Re3,Re8,Rg3,h4,Re3,Qc5,Qd4,Qxd4,Rxd4,f5,f3,gxf3,gxf3,exf3,Rxe8,Nxe8,Be6,Rc7,Rxh4,Rxc3,Bxf5,Kf6,Bd3,Ke5', 'Re4+,Kf6,Rxe8', 'https://lichess.org/training/30L5g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('30um4', 'Classical', 'Kastorfelito', 1639, 'plzdontm8me', 1646, 'e4,e6,Nf3,Nf6,e5,Ng4,h3,Nh6,d4,c5,Nc3,Nf5,dxc5,Bxc5,g4,Ne7,Bg5,Qb6,Ne4,h6,Nxc5,hxg5,Nd3,d5,exd6,Qxd6,Nxg5,Bd7,Ne4,Qd4,Bg2,Bc6,c3,Qb6,Nd6+,Kf8,Bxc6', 'Qxc6,f3,Qxd6', 'https://lichess.org/training/30um4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('30Zo3', 'Rapid', 'zzzvvv', 1678, 'BassDash', 1761, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,h3,g6,a3,Bg7,Nc3,O-O,Bg5,Re8+,Be2,h6,Bh4,c6,O-O,Qc7,Re1,Ne4,Nxe4,dxe4,Nd2,Bf5,c3,c5,Bg3,Qb6,Nc4,Qc6,d5,Qd7,Ne3,Rd8,Nxf5,gxf5,d6,Nc6,Rb1,Ne5,Qb3,b6,Bh5,Rf8,Rbd1,Rad8,Qd5,Nd3,Re2,f4,Bh4,f3,Rxe4,fxg2,Rxd3,Rde8,Rxe8,Rxe8,Be7,Kh8,Qxf7,Rg8,Rg3,c4,Rxg2,Qxh3,Bg4,Qd3,Bf3,Qb1+,Kh2,Be5+,Rg3,Rxg3,Bf6+,Bxf6,Kxg3,Qg1+,Bg2,Be5+,Kf3,Qd1+,Ke4,Qxd6', 'Qe8+,Kh7,Qxe5', 'https://lichess.org/training/30Zo3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3111v', 'Rapid', 'afrikano', 1604, 'lyla7', 1850, 'e4,e6,Bc4,c6,h3,d5,exd5,exd5,Bb3,Nf6,a3,Bd6,Nf3,O-O,d4,Bf5,Bg5,Nbd7,Nc3,Bg6,Qd2,Qc7,O-O-O,Ne4,Nxe4,Bxe4,Nh2,Bxh2,Rxh2,Qxh2,f3,Bg6', 'Bf4,Qxf4,Qxf4', 'https://lichess.org/training/3111v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('311vv', 'Rapid', 'leoaba', 2071, 'Doncorleone1970', 1698, 'e4,c6,d4,d5,exd5,cxd5,c4,dxc4,Bxc4,Nc6,Nf3,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nxd4,Na3,e5,O-O,Bxa3,bxa3,Nf6,Qh4,Rc8,Re1,Qd6,Bf4,Rc5,Rad1,Rd5,Kh1,Rf8,Bg3,h6,Ne4,Nxe4,Qxe4,Nf3,Qxf3', 'Rxf3,Rxd5,Qxd5', 'https://lichess.org/training/311vv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('312Mb', 'Blitz', 'Storman00', 1940, 'Chefakiem123', 2046, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,d4,exd4,Qxd4,Bb7,Nc3,Nf6,e5,c5,Qf4,Nd5,Nxd5,Bxd5,c4,Bc6,Be3,d6,O-O,Be7,Rad1,O-O,Bxc5,Bxf3,Qxf3,Qc8,exd6,cxd6,Bxd6,Bxd6,Rxd6,Qxc4,Qd5,Qb4,Qd4,Qa5,a3,Rac8,Qb6,Qa4,Qxa6,Qb3,Qb6,Qa4,Rd4,Qc2,Rb4,Rfe8,a4,Qd3,Qd4', 'Qxf1+,Kxf1,Rc1+,Qd1,Rxd1#', 'https://lichess.org/training/312Mb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('317YG', 'Rapid', 'Avet8030', 1914, 'AndrewVR', 1895, 'Nc3,e5,Nf3,Nc6,d4,e4,Nxe4,d5,Nc3,Bg4,e3,Nf6,Be2,Bb4,Bd2,Qe7,h3,Bxf3,gxf3,O-O-O,Na4,Bd6,Bd3,Nxd4,Bc3,Nc6,Bxf6,Qxf6,Qd2,Bb4,c3,Ne5,Qe2,Nxf3+,Kd1,Ba5,b4,Bxb4,Rb1,Bxc3,Nxc3,Qxc3,Bf5+,Kb8,Qxf3,b6,Ke2,g6,Bd3,Qe5,Ba6,Rd6,Rhd1,Rhd8,a4,Rf6,Qg2,c6,Qg3,Qxg3,fxg3,c5,a5,Kc7,axb6+,axb6,Bd3,c4,Bc2,Re6,Rd4,Rde8,Rxd5,Rxe3+,Kd2,Re2+,Kc1,Kc6,Rd1,Rg2', 'Ba4+,Kc7,Bxe8', 'https://lichess.org/training/317YG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('31BCP', 'Blitz', 'ThePlotTwister', 1603, 'Belicosevic', 1667, 'f4,d5,Nf3,c5,c4,d4,b4,b6,a4,Nc6,bxc5,bxc5,e3,Bg4,Na3,a6,Nc2,e6,Bb2,d3,Na3,Be7,Bxg7,Bf6,Bxh8,Bxh8,Rb1,Nb4,h3,Bxf3,Qxf3,Nf6,g3,Qa5,Qxa8+,Ke7,Qxh8,Ne4,Bg2,Nc2+,Nxc2', 'Qxd2+,Kf1,Qf2#', 'https://lichess.org/training/31BCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('31DVe', 'Rapid', 'Rosian97', 1908, 'Manh_Do', 1925, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,h3,Nf6,Nc3,e6,Bb5+,Nbd7,O-O,Bd6,a3,O-O,Bd3,Bxd3,Qxd3,Rc8,Ne2,Qc7,c3,h6,Rb1,Nb6,Nh4,Ne4,f4,Nc4,Ng3,f5,Nxe4,fxe4,Qg3,Rf6,Qg4,Rcf8,Ng6,Kh7,Nxf8+,Rxf8,Qxe6,Bxf4,Qxd5', 'Bh2+,Kh1,Rxf1#', 'https://lichess.org/training/31DVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('31L27', 'Rapid', 'EricJunuzovic', 1845, 'rksakrir', 1604, 'd4,d5,c4,e5,cxd5,Qxd5,e3,e4,Nc3,Bb4,Ne2,Nf6,Bd2,Bxc3,Nxc3,Qd8,Rc1,O-O,Qc2,Bf5,a3,a6,h3,b5,g4,Bg6,Bg2,Qe8,O-O,Nbd7,f3,exf3,Bxf3,Bxc2,Bxa8,Qxa8,Rxc2,c5,dxc5,Nxc5,Ne2,Nfe4,Bb4,Qd5,Rfc1,Nd3,Rc8,g6,Bxf8,Nxc1', 'Bh6+,Qd8,Rxd8#', 'https://lichess.org/training/31L27');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('31pg6', 'Rapid', 'luft18', 1768, 'eddybt', 1760, 'e4,b6,Nf3,Bb7,Nc3,e6,Be2,Bb4,d3,d6,Bd2,Nd7,O-O,Qe7,a3,Bxc3,Bxc3,f6,Re1,O-O-O,b4,d5,exd5,Bxd5,Nd4,g5,Bf3,Ne5,Bxd5,exd5,Nb5,Kb8,Nd4,Qd7,a4,h5,a5,b5,Nb3,a6,Bxe5,fxe5,Rxe5,g4,Nc5,Qd6,Re6,Qf4,g3,Qg5,Nxa6+,Kc8,Rc6,Rh7,c4,h4,cxb5,hxg3,fxg3,Qe3+,Kh1,Qf2,Rc2', 'Rxh2#', 'https://lichess.org/training/31pg6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('31Qdg', 'Rapid', 'htbcn', 1826, 'yakachoisir', 1752, 'd4,d5,e3,e6,c4,c6,c5,f5,Ne2,Nf6,b3,Be7,Nec3,O-O,Be2,Ne4,Nxe4,fxe4,f3,Bh4+,g3,Be7,O-O,exf3,Bxf3,Bf6,Bb2,Qe7,Nd2,e5,dxe5,Bxe5,Bxe5,Qxe5,e4,Qd4+,Kg2,dxe4,Nxe4,Qxd1,Rfxd1,Nd7,Nd6,Ne5,Rf1,Be6,b4,Rad8,Nxb7,Rd2+,Kg1,Bh3,Bh1,Bxf1,Rxf1,Rxf1+,Kxf1,Rxh2,Be4,Rxa2,Na5,Ng4,Nxc6,h5', 'Bd5+,Kf8,Bxa2', 'https://lichess.org/training/31Qdg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('31VEA', 'Blitz', 'CM eltenedor', 2258, 'macmardigan', 2057, 'e3,b6,f4,Bb7,Nf3,e6,b3,d6,Bb2,Nd7,d3,Ngf6,Nbd2,Be7,Qe2,O-O,O-O-O,a5,a4,b5,axb5,a4,bxa4,Rxa4,Nb3,Bd5,c4,Bxf3,gxf3,Nc5,Nxc5,dxc5,Rg1,Qa8,Kb1,Rb4,Qg2,g6,Rd2,Qa4,Kc1,Ra8,Rc2,Nh5,f5,Bf6,Bxf6,Nxf6,fxe6,fxe6,Kd2,Rd8,Qg5,Rxc4', 'Rxc4,Qxc4,Qxf6', 'https://lichess.org/training/31VEA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('31yoi', 'Rapid', 'amazingme85', 1613, 'sietse404', 1622, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nc3,e6,e4,Nxc3,bxc3,Nc6,Nf3,Bd7,a4,Be7,a5,a6,Ba3,Bxa3,Rxa3,Ne7,Ne5,Bc6,Nxc6,Nxc6,Be2,Ne7,Bf3,Qd6,Qb3,Rb8,O-O,Ng6,e5,Qe7,Bxb7,O-O,Ra4,c5,dxc5,Rxb7,Qc4,Rc7,Qxa6,Rxc5,Qd6,Rxe5,Qxe7,Nxe7,a6,Nc6,a7,Ra5', 'Rxa5,Nxa5,Ra1,Ra8,Rxa5', 'https://lichess.org/training/31yoi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('31ZE1', 'Rapid', 'Bejli304', 2166, 'Master_Chen', 2126, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,b6,Qe2,Bb7,O-O,Be7,Bg5,O-O,Rfe1,Nxe4,Bxe7,Qxe7,Bxe4,Bxe4,Qxe4,c5,d5,Nf6,Qe5,Nxd5', 'Qxd5,exd5,Rxe7', 'https://lichess.org/training/31ZE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('321s3', 'Blitz', 'Paprika_Cayenne', 1705, 'Poetonbrakeway', 1715, 'e4,Nh6,Nf3,a5,d3,b6,Bxh6,gxh6,Be2,e6,O-O,Rg8,Nc3,a4,Ne5,Ra5,Bh5,Rxe5,Qf3,Qg5', 'Qxf7+,Kd8,Qe8#', 'https://lichess.org/training/321s3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3233F', 'Rapid', 'Flemminglouv', 2035, 'pagloso', 2176, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,d6,d3,e5,e4,O-O,Nbd2,Bg4,h3,Be6,Ng5,Bd7,f4,Nh5,Qe1,h6,Ngf3,exf4,g4,Ng3,Rf2,Nc6,Nb3,g5,c3,Re8,Nbd4,d5,Nxc6,Bxc6,e5,f6,e6,Bd7,Nd4,c5,Nf5,Rxe6', 'Bxd5,Kh8,Bxe6', 'https://lichess.org/training/3233F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('327XY', 'Rapid', 'Gunc4ppedM', 1791, 'ks1982', 1769, 'e4,e5,Nf3,Nc6,Bc4,Be7,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bg5,O-O,f3,Bd7,O-O-O,a6,g4,c5,Qf2,b5,Bd5,Rb8,Bxf6,Bxf6,h4,g6,Rdg1,b4,Ne2,Qe7,h5,Qe5,hxg6,Qxb2+,Kd2,hxg6,Qh2,Rfc8', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/327XY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('328aI', 'Classical', 'Uraashrafov', 1631, 'vinh16', 1827, 'b3,Nf6,Bb2,g6,Bxf6,exf6,d4,Bg7,e3,O-O,Nf3,d5,h3,Nd7,Nc3,a6,Nxd5,c5,a4,cxd4,e4,Nc5,Qxd4,Nxe4,Qxe4,Re8,Qxe8+,Qxe8+,Be2,Qd8,O-O-O,Qa5,Rd3,Be6,Rhd1,Bxd5,Rxd5,Qc7,Rd7,Qc5,Bc4,Rf8,Rxf7,Rxf7,Rd7,Qxc4,Rd8+,Rf8,Rxf8+,Kxf8,bxc4,Ke7,Kd2,Kd6,Kd3,Kc5,Nd4,Kb4,Ne6,Bh6,c5,Kxa4,Kd4,Kb5,f4,Kc6,g4,g5,fxg5,Bxg5,c3,Bd2,Kc4,Be3,Nd4+,Bxd4,cxd4,a5', 'd5+,Kc7,Kb5', 'https://lichess.org/training/328aI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('329bK', 'Rapid', 'MIKHAIL_58', 1708, 'efeequis', 1845, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Bc5,Re1,f6,Bd2,O-O,Nc3,Be6,Nxd5,Bxd5,Bxd5+,Qxd5,Be3,Rad8,Bxc5,Qxc5,a3,Nd4,Nxd4,Qxd4,Rb1,Rd6,h3,Rfd8,Re4,Qb6,b4,Rd4,Rxd4,Qxd4,Qf3,c6,Rb3,Qa1+,Kh2,Qa2,Rc3,Qb2,Rc4,Qxa3,c3,Qa6,Qg3,Qb6,h4,a5,bxa5,Qxa5,h5,Qd5,Rg4,Qxd3,Rxg7+,Kh8,Qg4,Qxc3,h6,Qd2', 'Rxh7+,Kxh7,Qg7#', 'https://lichess.org/training/329bK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('32jLs', 'Classical', 'MamounAlzayed', 1820, 'PIlover314159265', 1724, 'e4,c5,Nf3,d6,Bc4,Nc6,c3,Nf6,d3,e6,Bg5,Be7,O-O,O-O,a3,d5,exd5,exd5,Bb3,Be6,Re1,h6,Bh4,Na5,Ba2,Qd7,b4,Nc6,bxc5,Bxc5,d4,Be7,Bb3,Na5,Bc2,Nc4,a4,a5,Ra2,b5,Ne5,Nxe5,dxe5,Ne8,Bxe7,Qxe7,axb5,Nc7,b6,Nb5,Qd3,d4,Rb2,Nxc3,Nxc3,dxc3,Qxc3,Rfb8,Qd4,Qa3,Reb1,Ba2,Ra1,Rd8,Qxd8+,Rxd8,Rbxa2,Qb4,Rb1', 'Qxb1+,Bxb1,Rd1#', 'https://lichess.org/training/32jLs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('32JMj', 'Rapid', 'nanicoobs', 1825, 'capitantrueno', 1821, 'c4,e5,Nc3,c5,g3,d6,Bg2,a6,b3,Nf6,Bb2,Be7,e3,O-O,Nge2,Nc6,O-O,Rb8,d4,cxd4,exd4,Bd7,Re1,Qc8,dxe5,Nxe5,Nd5,Nxd5,Bxd5,Bc6,Nf4,Bg5,Bxc6,Qxc6,Nd5,f5,f4,Bd8,fxe5,f4,exd6,Qxd6,Qg4,Qc5+,Kf1,fxg3+,Kg2', 'Qf2+,Kh3,Qxh2#', 'https://lichess.org/training/32JMj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('32kgk', 'Rapid', 'zhandos12', 1929, 'sanjnapit', 1923, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nge7,Ng5,d5,exd5,Nxd5,O-O,Be7,Bxd5,Qxd5,f4,O-O,c3,Bf5,cxd4,Rad8,Be3,Nb4,Nc3,Qc4,Rc1,Nd3,Ra1,Nxb2,Qb3,Qd3,Bf2,Nc4,Rfd1,Nd2,Qb2,Bxg5', 'Rxd2,Qxd2,Qxd2', 'https://lichess.org/training/32kgk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('32nhs', 'Blitz', 'NM Dreed1', 2301, 'WNM halki', 2169, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,d5,a3,Bxc3+,bxc3,O-O,cxd5,exd5,e3,Bf5,Ne2,Re8,g4,Bg6,Bg2,c6,Nf4,Qa5,Bd2,Nbd7,O-O,Qc7,Qe1,Nf8,Qf2,a5,h4,h5,g5,N6d7,Nxg6,Nxg6,f4,f5,Qf3,Nxh4,Qxh5,Nxg2,Kxg2,Nb6,g6,Qd6,Rh1,Kf8,Qxf5+,Qf6,Rh8+,Ke7,Qxf6+,Kxf6,Rxe8,Rxe8,Kf3,Kxg6,Rb1,Nc4,Bc1,b5,a4,Rb8,axb5,Rxb5,Ra1,Kf5,e4+,dxe4+,Kg3,Nd6,c4,Rb3+,Kg2,Nxc4,Bd2,Ne3+,Kg1,Nc2,Kh2,Rg3', 'Rxa5+,Kg4,Rg5+,Kf3,Rxg3+', 'https://lichess.org/training/32nhs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('32U0y', 'Rapid', 'Felixpawn', 2150, 'Blackjohn1976', 2006, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nc3,a6,Nf3,Bg4,Be2,Qc7,O-O,O-O-O,a3,e6,b4,h5,b5,Ne5,Nxe5,Qxe5,bxa6,bxa6,Re1,Bd6,g3,Qc5,Qa4,h4,Qxa6+,Kd7,Bxg4,Nxg4,Ne4,Qc6,Qxc6+,Kxc6,Nxd6,Rxd6,h3,Nf6,Re3,hxg3,Rxg3,g6,d3,Nh5,Rf3,Rd7,Bb2,Rb8,Bc3,Rb3,Bb4,Rbxd3,Rxd3,Rxd3,a4,Rxh3,a5,Kb7,a6+,Ka7,Bc5+,Ka8,a7,Nf6,Rb1,Nd7,Be3,Rh8,c5,Rc8,Rb5,Ne5,Bf4,Nc6,Bb8,Nxa7,Bxa7,Kxa7,Kg2,Ka6,Rb6+,Ka7,Rb5,Rc6,Kf3,f5,Kf4,Ka6,Rb8,Rxc5,Re8,Rc6,Ke5,Kb6,Rxe6,Rxe6+,Kxe6,Kc5,Kf6,Kd4,Kxg6,f4', 'Kf5,f3,Kf4,Kd5,Kxf3', 'https://lichess.org/training/32U0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('32xAY', 'Rapid', 'Indrainl', 1703, 'Rupesh_341', 1675, 'c4,Nf6,g3,c6,Nc3,d5,cxd5,cxd5,Bg2,Nc6,d4,e6,Bg5,Bb4,e3,h6,Bf4,Qb6,Ne2,Ne4,O-O,Nxc3,bxc3,Ba5,Rb1,Qd8,Nc1,Bxc3,Nb3,Ba5,Nc5,Bb6,Na4,Ba5,Qc2,f6,Nc5,Bb6,e4,Nxd4,Qd3,Bxc5,exd5,Qxd5,Bxd5,exd5,Rfe1+,Kf7,Be3,Nf3+,Kf1,Nxe1,Rxe1,b6,Qxd5+,Kg6,Qxa8,Re8,Bxc5', 'Bh3+,Qg2,Bxg2+,Kxg2,Rxe1', 'https://lichess.org/training/32xAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('32Y3e', 'Blitz', 'PiciAlChianti', 2101, 'pallino', 2076, 'd4,e5,dxe5,f6,exf6,Nxf6,Nf3,Bc5,e3,O-O,Be2,d5,h3,c6,O-O,Bf5,Nbd2,Qd7,c4,Bd6,cxd5,Bxh3,gxh3,Qxh3,Re1,Ng4,Bf1', 'Bh2+,Kh1,Nxf2#', 'https://lichess.org/training/32Y3e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('333fi', 'Rapid', 'FecskesZ', 1869, 'PAULD', 1860, 'e4,c5,Nf3,d6,Bd3,Nf6,c3,Nc6,Bc2,g6,d4,cxd4,cxd4,Bg7,O-O,Bg4,Be3,O-O,h3,Bxf3,Qxf3,e5,dxe5,Nxe5,Qe2,b6,Nc3,Rc8,Bb3,Qe7,Nd5,Nxd5,exd5,Rc7,Rab1,Rfc8,Rfc1,Rxc1+,Rxc1,Rxc1+,Bxc1,Qc7,Bf4,h6,Kh2,f6,Bd1,Kh7,b3,Qb7,Qd2,b5,Bc2,a6,Be3,f5,f4,Nd7,b4,Nb6,Bb3,Qc7,Qd3,Nc4,Bd4,Bxd4,Qxd4,a5,bxa5,Nxa5,Bc2,Nb7,Bb3,Nc5,Bd1,Ne4,a4,bxa4,Bxa4,Qc1,Qa7+,Kh8,Qa8+,Kg7,Qa7+,Kf6,Qd4+,Kf7,Qa7+,Kf6,Qd4+,Ke7', 'Qg7+,Kd8,Qd7#', 'https://lichess.org/training/333fi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('336Nq', 'Blitz', 'FM Karadenizaslani', 2340, 'Russman9999', 1787, 'e4,e6,d4,Be7,Nf3,c6,c4,b6,e5,Bb7,Nc3,a5,Bd3,Na6,O-O,g6,a3,h5,h4,Nh6,g3,Ng4,Bg5,c5,d5,Nb8,Re1,Na6,d6,Bxg5,Nxg5,Kf8,Be4,Bxe4,Ncxe4,Kg7,Qf3,Nxe5,Qc3,f6,f4,Ng4,Rad1,Kg8,Nf3,f5,Neg5,Nb8,Ne5,Nxe5,fxe5,Nc6,Qe3,Qf8,Kh2,Nd4,Rxd4,cxd4,Qxd4,Kg7,Qxb6,Kh6,Qe3,Kg7,Re2,Qc8,Qc3,Qc5,b4,axb4,axb4,Qa7,c5,Qa3,Rc2,Qxc3,Rxc3,Ra2+,Kh3,Rb8,Rb3,Ra4,b5,Ra5,c6,dxc6,Nxe6+,Kf7,Ng5+,Ke8,d7+,Kxd7,bxc6+,Kc7', 'Ne6+,Kxc6,Rxb8', 'https://lichess.org/training/336Nq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('338Yo', 'Rapid', 'boby1111', 1745, 'TheAleksWhite', 1695, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Nf6,d3,Be7,Bf4,O-O,O-O,d6,Re1,e5,Bg3,Nh5,Nxe5,Nxe5,Qxh5', 'Bg4,Qxe5,dxe5', 'https://lichess.org/training/338Yo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('339yS', 'Rapid', 'raiganesh71', 1928, 'kleoj', 1908, 'c4,d6,g3,e5,Bg2,c6,e3,Nf6,Nc3,Be7,Nge2,Bg4,O-O,O-O,h3,Bh5,Kh2,h6,g4,Bg6,d4,Nbd7,b3,Qc7,Kg1,a5,Bb2,Nb6,dxe5,dxe5,Ng3,a4,Nge4,axb3,axb3,Rfd8,Rxa8,Nxa8,Qe2,Bb4,Nxf6+,gxf6,Ne4,Bxe4,Bxe4,Rd2,Qf3,Rxb2,Qxf6,Qd6,Qf5,Qg6', 'Qc8+,Kg7,Bxg6', 'https://lichess.org/training/339yS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33bR8', 'Rapid', 'jonica321', 1631, 'GiraffeGiddy', 1719, 'e4,g6,d4,Bg7,e5,e6,Nf3,Ne7,Bg5,O-O,Nc3,h6,Be3,d5,Qd2,h5,Bg5,c5,Be2,Nbc6,O-O-O,cxd4,Nxd4,Nxe5,f4,Nc4,Bxc4,dxc4,Qe2,Bxd4,Bxe7,Qxe7,Rxd4,Qf6,Qxc4,e5,fxe5,Qxe5,Re4,Qg5+,Kb1,Qxg2,Ree1,Be6,Qf4,Rad8,Ne4,Bf5,Rhg1,Qh3,Rg3,Qxh2,Qxf5', 'Qxg3,Nxg3,gxf5', 'https://lichess.org/training/33bR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33cr3', 'Rapid', 'zatadira2004', 1850, 'blubleo', 1855, 'e4,c6,d4,d5,Nc3,Nf6,e5,Ne4,Nge2,f5,f3,Nxc3,Nxc3,e6,Be3,Be7,Bf2,O-O,Bd3,Nd7,O-O,Nb6,b3,a5,f4,a4,g3,Bd7,Qd2,Bb4,a3,Be7,b4,Nc4,Bxc4,dxc4,Qe2,b5,Qd2,Qc7,Ne2,Rad8,c3,Kh8,Qc2,g5,Kh1,h6,Rg1,Kg7,Be3,Rh8,Kg2,Rdg8,Kf2,Kf7,Rad1,h5,fxg5,Bxg5,Bxg5,Rxg5,Nf4,Qd8,Ke3,Qg8,Qe2,h4,Qf2,hxg3,Rxg3,Rxg3+,hxg3,Qg4,Rg1,Rh6,Qf3,Qg7,Nh5,Qh7,Nf6,f4+,Qxf4', 'Qd3+,Kf2,Rh2+,Rg2,Qc2+', 'https://lichess.org/training/33cr3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33CyX', 'Rapid', 'burhahn', 1706, 'Styrke', 1735, 'e4,e5,Bc4,Nc6,d3,Nf6,Bg5,Be7,a3,d6,h3,O-O,Nf3,Be6,Bb5,Bd7,Bc4,a6,Nc3,Be6,Bxf6,Bxf6,Bd5,h6,Bxc6,bxc6,Qe2,d5,O-O,dxe4,Nxe4,Rb8,b4,Re8,Rab1,Bd5,Nc5,Rb6,c4,Bxf3,Qxf3,Qe7,Rfe1,a5,d4,Qd6,Ne4,Qe6,Nc5,Qxc4,Nd7,Rb5,Nxf6+,gxf6,Qxf6,axb4,Qxh6,bxa3,Qg5+,Kf8,Qh6+,Kg8,Qg5+,Kf8,Rxb5,cxb5,Qf6,Re6,Qd8+,Re8,Qf6,Qxd4', 'Qh8+,Ke7,Rxe5+,Qxe5,Qxe5+', 'https://lichess.org/training/33CyX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33GIS', 'Rapid', 'spoint', 1660, 'Alfred_Bourdon', 1600, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,Ne7,d5,a6,Ba4,b5,Bc2,Na5,O-O,Nc4,Bg5,Bg4,h3,Bxf3,gxf3,O-O,Bd3,Nb2,Qc2,Nxd3,Qxd3,Qd7,Kh2,Ng6,Qe3,h6,Bf4,Nxf4,Qxf4,c6,Rg1,cxd5,Qxh6,f6,exd5,Ra7,Rg4', 'Qxg4,fxg4,gxh6', 'https://lichess.org/training/33GIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33jKb', 'Rapid', 'Ivancarias', 1803, 'amazo', 1757, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,g6,Nc3,Bg7,Bc4,Nf6,O-O,O-O,Bg5,Nbd7,Nd5,Re8,Re1,a6,Qf3,c5,Nb3,b5,Nxf6+,Bxf6,Bd5,Rb8,Na5,Bxg5', 'Qxf7+,Kh8,Nc6,Rb6,Nxd8', 'https://lichess.org/training/33jKb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33Mhd', 'Rapid', '1taurus', 1625, 'nicolaG', 1722, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,c3,Bg7,h3,O-O,g4,d6,d3,a6,a4,Bd7,Bb3,b5,axb5,axb5,Ra2,Be6,Rxa8,Qxa8,Nd2,Rd8,Qd1,d5,exd5,Nxd5,Ngf3,Nf4,Bc2,Nxd3+,Bxd3,Rxd3,O-O,Qd8,Qc2,f5,g5,f4,h4,Bf5,Qd1,e4,Nd4,Nxd4,cxd4,Qxd4,Qe2,e3,Nf3,Qe4,fxe3,fxe3,Ne1,Qg4+', 'Qxg4,Bxg4,Nxd3', 'https://lichess.org/training/33Mhd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33n09', 'Blitz', 'Bogun_vn', 1693, 'Daniel070', 1677, 'e4,d5,exd5,Nf6,Nc3,e5,dxe6,Bxe6,Nf3,Bc5,Bb5+,c6,Ba4,b5,Bb3,Bxb3,axb3,O-O,O-O,Nbd7,d4,Bb6,Be3,b4,Na4,Bc7,Re1,Ne4,c4,Ndf6,Nc5,Nxc5,dxc5,Ne4,Bd2,Qf6,Bxb4,Rad8,Qc2,Bxh2+,Nxh2,Rd2,Bxd2', 'Qxf2+,Kh1,Ng3#', 'https://lichess.org/training/33n09');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33qGr', 'Blitz', 'bjoernsen', 2382, 'CrushTheRush', 2326, 'b4,Nf6,Bb2,d5,e3,e6,b5,a6,a4,axb5,axb5,Rxa1,Bxa1,Bd6,c4,dxc4,Bxc4,O-O,Nf3,c6,O-O,cxb5,Bxb5,Bd7,Be2,Nc6,Nc3,e5,Qb1,b6,Nb5,Bb8,Rc1,Re8,d3,e4,dxe4,Nxe4,Bd3,Nf6,Bxf6,Qxf6,Bxh7+,Kh8,Bd3,Qh6,h3,Ne5,Be2,Bxh3,gxh3,Qxh3,Nbd4,Ng4,Qf5,Bh2+,Nxh2', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/33qGr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33rA4', 'Rapid', 'LetsPlayChess12345', 1654, 'Mercenarian', 1634, 'd4,d5,Bf4,Nf6,c3,Bf5,Nd2,e6,Ngf3,h6,e3,Bd6,Bg3,Bxg3,hxg3,Nc6,Ne5,Nxe5,dxe5,Nd7,Nf3,Bg4,Be2,f5,Nd4,Bxe2,Qxe2,Qe7,Qh5+,Qf7,Qe2,c5,Nb5,O-O,f4,g5,g4,Kg7,O-O-O,c4,gxf5,Qxf5,Nd6,Qg6,Nxb7,Rab8,Na5,Nc5,Nc6,Rb7,Na5,Rb6,Qc2,Qxc2+,Kxc2,gxf4,Rdf1,Ra6,b4,cxb3+,Nxb3,Rxa2+,Kb1,Rxg2,Nxc5,Rc8,Nxe6+,Kf7,Nxf4,Rb8+,Kc1,Ra2,Nd3+,Ke6,Kd1,Ra1+,Nc1,Rbb1,Kd2,Rb2+,Kd3,Kxe5,Rh5+,Kd6,Rxh6+,Kc5,Rh8,a5,Rc8+,Kd6,Kd4', 'Rd2+,Nd3,Rxf1', 'https://lichess.org/training/33rA4');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 2;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet20 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JD8yL', 'Rapid', 'IlCerbiatto', 1965, 'bhati254', 1940, 'c4,e5,Nc3,Nf6,g3,Nc6,Bg2,b6,Nf3,Bb7,d4,e4,Ng5,Be7,Ngxe4,O-O,Nxf6+,Bxf6,d5,Bxc3+,bxc3,Na5,Qd3,Ba6,d6,Bxc4,Qf5,Re8,e3,Nc6,dxc7,Qxc7,Bb2,Ne5,Bxa8,Nd3+,Kd2,Nxb2,Be4,Qd6+,Kc2,Rxe4,Kxb2,Qd2+,Ka3,Qxc3+,Ka4,Ba6+,Qxe4', 'b5#', 'https://lichess.org/training/JD8yL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JdADm', 'Blitz', 'Yonatango', 2273, 'wladko', 1733, 'h4,e6,h5,d5,d4,h6,c4,Nf6,Nc3,dxc4,e4,Bb4,f3,Bxc3+,bxc3,b5,a4,c6,Nh3,Nxh5,Nf4,Nxf4,Bxf4,Nd7,Qd2,Nf6,Be5,Bd7,axb5,cxb5,Ra6,Qc8,Rd6,O-O,Rxh6,Ne8,Rh1,Nxd6,Rh8+,Kxh8', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/JdADm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDb2B', 'Rapid', 'decheni', 2172, 'CasinoClub', 2017, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,g3,fxg3,O-O,d5,Bxd5,gxh2+,Kh1,Nf6,Bxf7+,Kxf7,Nxh4,Rf8,d4,Kg8,Nc3,Nxe4,Rxf8+,Kxf8,Qf3+,Nf6,Bg5,Nd7,Kxh2,Kg8,Re1,Nb6,Bxf6,Qxf6,Re8+,Kf7,Qxf6+,gxf6,Rh8,Kg7,Rd8,Be6,Rxa8,Nxa8,d5,Bd7,Kg3,Nb6,b3,c6,dxc6,Bxc6,Nf5+,Kf7,Nd4,Be8,Kf4,a6,Ne4,Nd5+,Kf3,Nb4,Nd6+,Kf8,a3,Bc6+,Kg4,Nd5,Kh5,Kg7,Ne6+,Kg8,Kh6,b5,Nd4,Bd7,Ne4,f5,Nc5,Bc8,Kg5,f4,Nd3,Kg7,Nxf4', 'h6+,Kh4,Nxf4', 'https://lichess.org/training/JDb2B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JdbPs', 'Rapid', 'samihayek', 1679, 'thegas01', 1801, 'd4,d5,Nc3,Nf6,Nf3,e6,Qd3,a6,h3,c5,Bg5,Nc6,Ne5,Nxd4,a3,Bd6,f4,h6,Bxf6,Qxf6,e4,Bxe5,fxe5,Qxe5,O-O-O,dxe4,Nxe4,O-O,c3,Nc6,g4,b5,Bg2,Bb7,Qd7,Na5,Rhe1,Rad8,Qxd8,Rxd8,Rxd8+,Kh7,h4,f5', 'Ng5+,hxg5,Rxe5', 'https://lichess.org/training/JdbPs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JdBRA', 'Rapid', 'serkan7', 1732, 'emir832', 1741, 'd4,Nf6,Bg5,d5,Bxf6,exf6,a3,Nc6,c4,dxc4,e3,Be6,Nc3,Bd5,e4,Bxe4,Nxe4,Qxd4,Qxd4,Nxd4,O-O-O,Nb3+,Kc2,b5,Ne2,Be7,N2c3,a6,Nd2,Nxd2,Rxd2,O-O,f3,Rad8,Nd5,Bd6,b3,cxb3+,Kxb3,c5,Be2,c4+,Kb2,Be5+,Ka2,Kh8,Rhd1,c3,Rc2,Rc8,f4,Bd6,Rxc3,Rxc3,Nxc3,Bxf4,h3,Be5,Nb1,h6,Rd7,Kg8,Ra7,Rc8,Bf3', 'Rc2+,Kb3,Rb2#', 'https://lichess.org/training/JdBRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jDbW4', 'Bullet', 'tello57', 1892, 'tunxhi', 1941, 'e4,e5,d4,exd4,c3,Nc6,cxd4,Bb4+,Nc3,Nge7,Bc4,O-O,Nf3,d6,O-O,Ba5,Bg5,h6,Bh4,Qe8,Re1,Ng6,Bg3,Kh8,a3,Bg4,Qd3,Bb6,Nd5,Bxf3,Nxb6,axb6,gxf3,Qd7,f4,Qh3,f5,Nge7,Kh1,h5,Re3,Qg4,Rg1,Qg5,Bxd6,Qf6,Be5,Nxe5,dxe5,Qxe5,Rh3,Rad8,Qe3,g6,Qh6+,Kg8,Rxh5,Qxe4+,Rg2', 'Rd1+,Bf1,Rxf1#', 'https://lichess.org/training/jDbW4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDDbR', 'Rapid', 'Vlad__B', 1764, 'deceit01134', 1854, 'd4,Nf6,Nf3,e6,Bf4,c5,c3,Nc6,e3,cxd4,cxd4,Bb4+,Nbd2,O-O,a3,Be7,Bd3,d5,Qc2,Nh5,Bg3,Nxg3', 'Bxh7+,Kh8,hxg3', 'https://lichess.org/training/JDDbR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdeOU', 'Blitz', 'Oduma', 1957, 'cypherki', 2036, 'd4,d5,Bf4,Nc6,a3,e6,e3,Bd6,Bg3,Bxg3,hxg3,e5,Nd2,exd4,exd4,Nxd4,Qh5,Nf6,Qe5+,Qe7,Qxe7+,Kxe7,O-O-O,Be6,Ngf3,Nxf3,gxf3,c5,Re1,h6,Nb3,b6,Nd2,Rhe8,g4,Kd6,Be2,Kc7,Reg1,d4,Bd1,Nd5,Ne4,Nf4,g5,h5,Ng3,g6,Ne4,Bd5,Nf6,Re6,Rh4,Rxf6,gxf6,Ne6,f4,Rd8,f5,gxf5,Rxh5,Bc6,Rxf5,Rd6,Be2,a6,Bc4,b5,Bxe6,Rxe6,Rg7,Kb6,Rxf7,Be4,Rf4,Bg6,Rg7,Bh5,f7', 'Re1+,Kd2,Rd1#', 'https://lichess.org/training/jdeOU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdEsA', 'Blitz', 'IM lareinedesneiges', 2536, 'Jenlen3001', 2536, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Qe2,Nxe4,Qxe4,Qd5,Qh4,Bf5,Bc4,Qd6,d3,e6,O-O,Be7,Bg5,h6,Bxe7,Qxe7,Qg3,Bg6,Ne5,Bf5,Qxg7,Rf8,Rfe1,Nd7,Nxd7,Kxd7,Qxh6,Rg8,g3,Rg4,Re5,Rag8,Rae1,Qd6,Qf6,R8g7,Rxf5,exf5,Qxf5+,Kc7,Qa5+,Kd7,Qxa7,Qc7,Qc5,Qd6,Qf5+,Kc7,Qa5+,Kd7,Qa8,Kc7,Qa5+,Kd7,Qf5+,Kc7,Re3,R4g5,Qe4,b5,Bb3,f5,Qe8,f4,Rf3,fxg3,hxg3,Kb6,Rf8', 'Rxg3+,Kf1,Rg1+,Ke2,Re7+', 'https://lichess.org/training/jdEsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jDf44', 'Rapid', 'DragonKiller724', 1633, 'Reiner812', 1703, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,Ne5,Bb3,O-O,f3,a6,Qd2,b5,h4,h5,Bh6,Bb7,Bxg7,Kxg7,Nf5+,gxf5,Qg5+,Kh7,Qxf5+,Ng6,g4,hxg4', 'h5,e6,hxg6+', 'https://lichess.org/training/jDf44');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JdGQj', 'Rapid', 'Menchess26', 2280, 'veskokb', 2216, 'c4,f5,e4,fxe4,d3,Nf6,dxe4,e5,Nf3,d6,Nc3,Be7,Bd3,O-O,O-O,Nc6,Nd5,Bg4,Nxe7+,Qxe7,Be3,Nh5,Be2,Bxf3,Bxf3,Nf4,g3,Nh3+,Kg2,Ng5,Bg4,Nxe4', 'Qd5+,Kh8,Qxe4', 'https://lichess.org/training/JdGQj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDHZK', 'Blitz', 'Kusokosla', 2186, 'WCM Jaqueline142', 2164, 'd4,e6,Nc3,Nf6,Bf4,c5,e3,cxd4,exd4,Bb4,Bd3,O-O,Nf3,Nc6,O-O,Qa5,Ne4,Nd5,Bg3,f5,c3,Be7,c4,Ndb4,Nc3,f4,Bh4,g5,Nxg5,Bxg5,Bxg5,Qxg5,Bb1,f3,g3,Qh5,Kh1,Nd8,a3,Nbc6,Be4,Nf7,d5,Nce5,dxe6,dxe6,Nb5,Ng4,h4,Nge5,Nd6,Qg4,Kh2,Nxd6,Qxd6,Qxe4,Rfe1,Ng4+,Kg1,Qf5,Rad1,Nf6,Re5,Qh3', 'Rg5+,Kf7,Qc7+,Bd7,Rxd7+,Nxd7,Qxd7+,Kf6,Qg7#', 'https://lichess.org/training/JDHZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdijD', 'Rapid', 'ConwyCastle', 2147, 'comfortable', 2234, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,Nf3,Bg4,c3,e6,Bf4,Bd6,Bxd6,Qxd6,Nbd2,Nf6,O-O,O-O,Re1,Bh5,Nf1,Rab8,Ng3,Bg6,Ne5,Bxd3,Qxd3,b5,a3,a5,h3,g6,Qf3,Kg7,Nf1,Ne4,Nxc6,Qxc6,Qe3,Qd6,Nd2,Nxd2,Qxd2,Rfc8,Re3,b4,axb4,axb4,h4,bxc3,Rxc3,Rxc3,Qxc3,Qb6,Rb1,Qb4,Qe3,Rc8,h5,h6,hxg6,Kxg6,Qg3+,Kh7,Qf4,Kg7,Qg4+,Kf8,Qf4,Rc4,Qxh6+,Ke8,Ra1,Rxd4,Qh8+,Kd7,Ra7+,Kd6,Qd8+,Ke5,Qg5+,Kd6,Ra6+,Kc7,Qc1+,Rc4,Qa1,Qc5,Ra7+,Kd6,Qa6+,Ke5,g3,Qd4,Rxf7,Rc1+,Kh2,Qe4,f3,Qc2+,Kh3', 'Rh1+,Kg4,Qg6#', 'https://lichess.org/training/jdijD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdjcr', 'Rapid', 'T053kr', 1743, 'MrRobotLt', 1793, 'e4,c5,Bc4,e6,b4,cxb4,Bb2,Nf6,Nf3,h6,O-O,Nc6,d4,Nxe4,d5,Na5,dxe6,Nxc4,exf7+,Kxf7', 'Qd5+,Kg6,Qxe4+', 'https://lichess.org/training/jdjcr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JdJjJ', 'Rapid', 'utkuberk', 1678, 'Pin0t', 1675, 'd4,d5,Nf3,e6,Bf4,Nf6,c4,Nh5,Bg5,Be7,Bxe7,Qxe7,e3,c5,cxd5,exd5,dxc5,O-O,Nd4,Nc6,Qxh5,Nxd4,Na3,Be6,Bd3,g6,Qe5,Nc6,Qc3,Rac8,O-O,Qg5,Rac1,Bh3,g3,Bxf1,Bxf1,a6,b4,d4,exd4,Nxd4,Nb1,Nf3+,Kg2,Qd5', 'Qxf3,Qxf3+,Kxf3', 'https://lichess.org/training/JdJjJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdjnz', 'Rapid', 'JRangel', 1656, 'Hargo04', 1779, 'd4,Nf6,Nf3,d5,Bf4,c5,e3,Nc6,c4,Bf5,Nc3,e6,Bd3,Ne4,O-O,Nb4,Qa4+,Ke7,Bxe4,dxe4,Ne5,f6,g4,fxe5', 'Bg5+,Kf7,Bxd8', 'https://lichess.org/training/jdjnz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdKNx', 'Classical', 'jazzyardbird', 1826, 'SergioMarega', 1836, 'd4,Nf6,Nf3,c6,c4,d5,Nc3,Bg4,Ne5,Bh5,Qb3,b6,Bf4,Nfd7,cxd5,Nxe5,dxe5,cxd5,Nxd5,e6,Nc3,Bc5,Qb5+,Kf8,Rd1,Qe7,g3,g5,Bg2,a6,Qd3,Ra7,Qd8+,Qxd8,Rxd8+,Kg7,Rxh8,Kxh8,Bxg5,Nd7,Bf6+,Nxf6,exf6,h6,Ne4,Bd4,b3,Bg6,O-O,Bxe4,Bxe4,Bxf6,Rc1,Kg7,f4,Bb2,Rf1,f5,Bf3,b5,e4,Rd7,exf5,exf5,Kg2,Ba3,h3,Rd2+,Rf2,Rd4,Bh5,Bc5,Re2,Kf6,Rc2,Ba3,Rc6+,Ke7,Rxa6,Rd2+,Kf3,b4,Rxh6,Rxa2,g4,fxg4+,hxg4,Rb2,Rh7+,Kd6,Bf7,Rc2,Bc4,Rc3+,Ke4,Bc1,f5,Re3+,Kd4,Rg3,Rg7', 'Bb2+,Ke4,Bxg7', 'https://lichess.org/training/jdKNx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDLH9', 'Blitz', 'Joyve', 1558, 'aristonharefa', 1568, 'Nf3,e5,Nc3,Nc6,d3,Nf6,e4,Bc5,Be3,Bxe3,fxe3,O-O,Be2,d6,Qd2,b6,O-O-O,a5,Rdg1,Nb4,a3,Na6,h4,h5,Ng5,g6,g4,Nxg4,Bxg4,Bxg4,Nd5,Bf3,Nxf3,c6,Nc3,c5,Nd5,b5,d4,b4,dxe5,bxa3,Kb1,dxe5,Nxe5,Rb8,Rf1,Rxb2+,Ka1,Qb8,Nf6+,Kg7,Nfd7', 'Ra2+,Kxa2,Qb2#', 'https://lichess.org/training/JDLH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jDMsA', 'Rapid', 'mossa_alshareef', 1985, 'nagno', 2029, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be3,a6,a3,Be7,Qd2,Nc6,O-O-O,Qc7,f4,O-O,h3,b5,Nxc6,Qxc6,e5,dxe5,fxe5,Ne4,Nxe4,Qxe4,Qd4,Bb7,Rg1,Rfc8,Qxe4,Bxe4,Bd3,Bxd3,Rxd3,b4,a4,Bc5,g4,Bxe3+,Rxe3,Rc5,h4,Rac8,Rg2,Ra5,b3,Rac5,g5,Rc3,Rge2,Kf8,Kb2,Ke7,Rd3,R3c5,h5,Rd8,Rg3,Rdd5,Rge3,Rd4,Re4,Rxe4,Rxe4,a5,h6,g6,Kc1,Rc3,Rc4,Rxc4,bxc4,Kd7,Kb2,Kc6,Kb3,Kc5,c3,bxc3,Kxc3,Kb6,Kd4,Kc6,c5,Kd7,Kc4,Kc6,Kd4,Kb7,Kc4,Ka6', 'c6,Kb6,c7', 'https://lichess.org/training/jDMsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDOAA', 'Rapid', 'lucktbd', 1632, 'Spinocchio', 1654, 'e4,e5,Nc3,Nc6,Bc4,Bc5,a3,Nf6,Na4,Nxe4,Nh3,d5,Nxc5,Nxc5,Ba2,Qh4,d3,Bxh3,gxh3,Qxh3,Bxd5,Rd8,Qf3,Qxf3,Bxf3,Nd4,Bd1,e4,O-O,Rd6,Bf4,Rg6+,Kh1,Nce6,Bg3,Ng5,dxe4,Nxe4,Re1,Re6,Bg4,Re7,c3,Nc2,Rxe4,Rxe4,Rd1,Rxg4,Bxc7,O-O,Rd2,Re8,h3,Re1+,Kh2,Nd4,cxd4,Rg6,d5,Reg1,Bg3,Re1', 'd6,Re8,d7,Rd8,Bc7,Rxd7,Rxd7', 'https://lichess.org/training/JDOAA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDoi9', 'Blitz', 'FM JustoTriana', 2336, 'nefistofeles', 2294, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Nc3,Nf6,O-O,Be7,h3,O-O,Re1,h6,d5,Nb8,Bxd7,Nbxd7,Nh2,c6,Ng4,cxd5,Nxf6+,Nxf6,Nxd5,Nxd5,Qxd5,Qc7,c3,Rad8,Be3,a6,Rac1,Kh7,c4,f5,exf5,Rxf5,Qe4,g6,g4,Rf7,Kg2,Rdf8,b3,Bh4,Re2,Qe7,Rd1,Bg5,Bxg5,Qxg5,Rxd6,Rf4,Qxb7+,R8f7,Rd7,Rxg4+,hxg4,Qxg4+,Kf1,Rxd7,Qc6', 'Rd1+,Re1,Qh3+', 'https://lichess.org/training/JDoi9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JdOqn', 'Rapid', 'Gmichel', 1655, 'stillnogood', 1688, 'e4,e5,f4,exf4,Nf3,Bc5,d4,Bb6,Bc4,c6,O-O,d5,exd5,cxd5,Bb5+,Nc6,Qe2+,Ne7,Bxf4,O-O,c3,Ng6,Bg3,Bg4,Nbd2,a6,Ba4,Nce7,Bc2,f5,Qe6+,Kh8,Ng5,f4,Nf7+,Rxf7,Qxf7,fxg3,h3,Be2,Rfe1,Bb5,Re6,Bd7,Rxg6,Nxg6,Bxg6,hxg6,Qxg6,Bc7,Rf1,Qg8,Rf7,Be8', 'Qh5+,Qh7,Rf8#', 'https://lichess.org/training/JdOqn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDpuV', 'Blitz', 'FM Gevo199064', 2456, 'volodkin', 2101, 'Nf3,e6,g3,c6,Bg2,d5,O-O,Nf6,d4,Nbd7,Bf4,b6,Ne5,Bb7,Nd2,Nxe5,dxe5,Nd7,e4,Be7,exd5,cxd5,Re1,Bg5,Qg4,h6,Nf3,Bxf4,Qxg7,Rf8,gxf4,Qe7,Qxh6,O-O-O,Qg5,Qb4,f5,Rg8,Qh4,Rg4,c3,Qf4,Qh3,Rdg8,Nd4,Rxg2+,Qxg2,Rxg2+,Kxg2,Nxe5,fxe6,fxe6,Re3,Ng4,Rf3,Qxh2+,Kf1,Qh1+,Ke2,Qxa1,Rf8+,Kd7,Rf7+,Kd6,Rxb7,Qxb2+,Kf3,Qxf2+,Kxg4,e5,Nb5+,Kc6,Rc7+,Kxb5,a4+,Ka5', 'Rxa7#', 'https://lichess.org/training/JDpuV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDqDK', 'Blitz', 'Berovski', 2373, 'IM gsoppe', 2399, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Nbd7,e3,c6,Bd3,Be7,Nge2,O-O,O-O,Re8,f3,Nf8,e4,dxe4,fxe4,Ng4,Bxe7,Qxe7,Rf3,Ng6,Qd2,Be6,Raf1,Rad8,h3,Nh6,Qe3,b5,a3,a5,Nf4,Nxf4,Rxf4,b4,axb4,axb4,Ne2,c5,dxc5,Rc8,Bb5,Red8,c6,Rb8,Ba4,b3,Rc1,Rdc8,Qc5,Qc7,Rf3,Ra8,Bxb3,Bxb3,Rxb3,Ra5,Qc4,Qe5,Rb7,Qg5,b4,Ra3,Rf1,Rxh3,Rfxf7,Kh8,Rf2,Ra3,Qd4,Rg8,c7,Ng4,Rb8,Ra8,Rxa8,Rxa8,Rf4,h5,Qd5,Qh4,Rxg4', 'Ra1+,Nc1,Rxc1+,Qd1,Rxd1#', 'https://lichess.org/training/JDqDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JdrCV', 'Rapid', 'Fakundo7', 1752, 'Eloest', 1719, 'c4,b6,e3,Bb7,Nf3,e6,Nc3,Nf6,Qc2,c5,b3,d5,cxd5,Bxd5,Bb2,Nbd7,Nxd5,exd5,Bb5,a6,Bc6,Rc8,Bb7,Rb8,Bxa6,b5,a4,b4,Bb5,Bd6,O-O,O-O,d4,Qb6,dxc5,Bxc5,Nd4,Bxd4,Bxd4,Qd6,Qf5,Rfd8,Rac1,Rbc8,Qg5,h6,Qf5,Qe6,Qf3,Ne4,h3,Nd2,Qg3,g6,Rxc8,Rxc8,Rd1,Nxb3,Bb2,Nbc5,Qf3,Ne4', 'Bxd7,Qxd7,Qxe4,dxe4,Rxd7', 'https://lichess.org/training/JdrCV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDRKR', 'Rapid', 'scorpion123', 2050, 'Kimarov', 2035, 'c4,Nf6,d3,e6,Nf3,Bc5,h3,c6,a3,a6,Nbd2,Qb6,e3,Nh5,b4,Bxe3,fxe3,Qxe3+,Be2,Nf4,Rh2', 'Nxd3+,Kf1,Qf2#', 'https://lichess.org/training/JDRKR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JdrsJ', 'Rapid', 'Muleskinner', 2045, 'ss96', 1916, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Bc4,Nf6,d3,Bg4,f3,Bh5,g4,Bg6,Qe2,e6,f4,Be7,h4,h6,Bd2,Nbd7,O-O-O,O-O-O,h5,Bh7,g5,hxg5,fxg5,Nd5,Kb1,c6,Nf3,Bf5,Rdg1,Nf4,Qe1,Nxh5,Ne4,Bxe4,dxe4,g6,Bc3,Rhg8,Bd3,Qf4,Qf2,Bc5,Qg2,Bxg1,Rxg1,Qe3,Bd4,Qf4,Bxa7,Qc7,Be3,Nf4,Qg4,Nxd3,cxd3,Qa5,Rc1,Ne5,Qg3,Nxf3,Qxf3,Rxd3,Qxf7,Rdd8,Qxe6+,Kb8,Qf6,Rde8,Qf4+,Qe5', 'Qxe5+,Rxe5,Bf4,Kc8,Bxe5', 'https://lichess.org/training/JdrsJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jdrzb', 'Blitz', 'dareonion2', 1670, 'Grafy', 1600, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,h3,Nf6,c3,a6,b4,Ba7,O-O,O-O,Bb2,b5,Bb3,Ne7,Nbd2,Ng6,d4,exd4,cxd4,Be6,d5,Bd7,Re1,Qc8,e5,dxe5,Nxe5,Bxh3,gxh3,Qxh3,Qf3,Qh6,Ne4,Nxe4,Rxe4,Qg5+,Rg4,Qd2,Nxg6,fxg6,d6+,Kh8,Qh3,Qxb2', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/Jdrzb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDsN4', 'Rapid', 'geramadara19', 1741, 'lbutlerl', 1703, 'e4,e6,d4,d5,e5,Nc6,Nf3,f6,Bc4,dxc4,b3,cxb3,axb3,fxe5,O-O,exd4,c3,dxc3,Qxd8+,Nxd8,Nxc3,Bb4,Bb2,Bxc3,Bxc3,Nf6,Nd4,O-O,Nb5,Nd5,Bb2,c5,Rac1,a6,Na3,b6,Nc4,b5,Nd6,Nb7,Ne4,e5,Nxc5,Nxc5,Rxc5,Nb4,Rd1,e4,Rc7,Rf7', 'Rd8+,Rf8,Rxg7+,Kh8,Rxf8#', 'https://lichess.org/training/JDsN4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JdSYx', 'Rapid', 'Difio', 1633, 'josegalvezc', 1678, 'd4,g6,Bf4,Bg7,e3,d6,c3,Nf6,Nd2,O-O,Ngf3,b6,Bd3,Bb7,O-O,Nbd7,h3,Re8,Re1,e5,dxe5,dxe5,Bg5,h6,Bxf6,Nxf6,Bb5,c6,Ba4,b5,Bb3,a6,e4,c5,c4,b4,a3,a5,Ba4,Re7,axb4,axb4,b3,Qc7,Qc2,Rd8,h4,Ng4,h5,g5,Rad1,Ra8,Nf1,Bc6,Bxc6,Qxc6,Ng3,Rea7,Nf5,Kh7,Ne7,Qe6,Nf5,Ra2,Qd3', 'Nxf2,Qe3,Nxd1', 'https://lichess.org/training/JdSYx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDtMT', 'Blitz', 'TylerUrnden', 1803, 'Actaestfabula6', 1791, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,c6,Bd3,Bd6,O-O,O-O,Bg5,Nbd7,Qd2,Qc7,h4,h6,Bxh6,gxh6,Qxh6,Rd8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/JDtMT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jDtog', 'Rapid', 'theloop', 1923, 'talbar999', 1894, 'c4,g6,g3,Nf6,Bg2,Bg7,d4,d6,Nf3,O-O,O-O,c6,Nc3,Nbd7,Bd2,e5,dxe5,Nxe5,Qc1,Nxc4,Bg5,Qe7,b3,Ne5,Bh6,Bxh6,Qxh6,Nxf3+,Bxf3,d5,Rfe1,Re8,Bg2,Ng4,Qf4,Bf5,h3,Nf6,g4,Bd7,e4,d4,e5,Nd5,Nxd5,cxd5,Bxd5,Be6,Bxe6,Qxe6,Qxd4,Rad8,Qxa7,Rd2,Qe3,Red8,Re2,Rd1+,Rxd1,Rxd1+,Kg2,Qd5+,Qe4,Qb5,Rc2,Qf1+,Kg3,Qg1+,Kh4,Re1,Qd4,h6,Rc8+,Kh7,e6,Re5,exf7', 'Rh5+,gxh5,g5#', 'https://lichess.org/training/jDtog');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdvgO', 'Rapid', 'SonAskEr', 1680, 'tetritolia', 1687, 'd4,Nf6,Bg5,c6,f4,Qb6,Nc3,Qxb2,Kd2,e6,Rb1,Qa3,Rb3,Qa5,Nf3,Bb4,Ne5,Ne4+,Ke3,Nxc3,Qd3,Nd5+,Kf3,f6,Nc4,Qxa2,Bh4,Nxf4,Qe4,g5,Bg3,f5,Qe5,Qxc2', 'Qxh8+,Bf8,Nd6+', 'https://lichess.org/training/jdvgO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdvL1', 'Blitz', 'FM Arman_Hakemi', 2596, 'Elvis95', 1772, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb6,e5,d5,exf6,dxc4,fxg7,Rg8,Bh6,Be6,O-O,Qd7,d5,O-O-O,dxe6,Qxe6,Qe1,Qxh6,Nc3,Rxg7,Qe4,Rdg8,g3,Qh3,Kh1,h5,Ng1,Qd7,Rad1,Qe8,Qxe8+,Rxe8,Nf3,Ne5,Rfe1,f6,Nd5,Bxf2,Nxf6,Re6', 'Rxe5,Rxe5,Nxe5', 'https://lichess.org/training/jdvL1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDvyO', 'Rapid', 'Naomi2020', 1854, 'sudhakarannellankar', 1921, 'Nf3,g6,d4,Bg7,c4,d6,e3,Nf6,b3,O-O,Bb2,c6,Bd3,Bg4,Nbd2,Nfd7,h3,Bxf3,Nxf3,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,dxe5,O-O,Qc7,Bc2,Nd7,Qf3,Kg7,Rfd1,f5,Rd2,e4,Qf4,Qxf4', 'Rxd7+,Rf7,Rxf7+,Kxf7,exf4', 'https://lichess.org/training/JDvyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jdwaz', 'Rapid', 'a_daneshi', 1842, 'agusteow7', 1800, 'e4,c5,Nf3,d6,Bc4,e6,a3,Nf6,d3,Nc6,Bg5,Be7,c3,d5,exd5,exd5,Ba2,Be6,Nbd2,b5,O-O,O-O,Re1,h6,Bh4,Bf5,d4,c4,Bb1,Bxb1,Qxb1,Re8,Qf5,Qc7,Ne5,Nxe5,Rxe5,Ne4,Nxe4,dxe4,Bxe7,Rxe7,Qxe4,Rxe5', 'Qxa8+,Kh7,dxe5', 'https://lichess.org/training/Jdwaz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdwU9', 'Rapid', 'Arief_Jatinegara', 1876, 'GambleIt', 1907, 'e4,c5,f4,d6,Nf3,a6,d4,cxd4,Qxd4,Nc6,Qd5,e6,Qd1,Nf6,Bd3,Be7,O-O,O-O,Be3,Ng4,Bd2,e5,fxe5,Ncxe5,Nxe5,dxe5,Nc3,Bc5+,Kh1,Qh4,h3,Qg3,hxg4', 'Qh4#', 'https://lichess.org/training/jdwU9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdXCn', 'Classical', 'gto', 1770, 'Aliaksandr80', 1815, 'd4,Nf6,Nc3,d5,Bg5,Nbd7,e3,h6,Bh4,a6,Nf3,e6,Ne5,Be7,Bd3,Nxe5,dxe5,Nd7,Bxe7,Qxe7,Qg4,O-O,f4,c5,f5,Nxe5,Qg3,Nxd3+,cxd3,Qd8,fxe6,fxe6,O-O-O,b5,e4,d4,Ne2,Bb7,Qe5,Qf6,Qg3,Rac8,Kb1,e5,Qh3,c4,dxc4,Bxe4+,Ka1,Rxc4,Ng3,Bd5,Rhf1,Qd8,Nf5,Rc2,Nxh6+,gxh6,Qxh6,Rf7', 'Qg6+,Rg7,Qxc2', 'https://lichess.org/training/jdXCn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jDXHu', 'Rapid', 'woehler', 1711, 'Millionnaire', 1714, 'e4,e5,Nc3,Bb4,Nf3,Nc6,d3,Bxc3+,bxc3,Nf6,Bb2,O-O,Be2,d5,exd5,Nxd5,c4,Nf4,O-O,Re8,Qd2,Bg4,Rfe1,Bxf3,Bxf3,Ng6,Be4,Nf4,c3,Qg5,Re3,Re6,Rg3', 'Nh3+,Rxh3,Qxd2', 'https://lichess.org/training/jDXHu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDxTc', 'Blitz', 'FM oanda', 2485, 'GM BlueGreensun', 2605, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bc4,Ke8,Bg5,Bd6,O-O-O,Nbd7,f3,a6,a4,h6,Be3,Bc5,Bxc5,Nxc5,Nge2,Be6,Bxe6,Nxe6,Nd5,Nd7,a5,c6,Ne3,b5,axb6,Nxb6,Rd6,Rc8,b3,Ke7,Nf5+,Kf6,Kb2,g6,Ne3,Ke7,Rd2,h5,Ra1,Ra8,h4,a5,Nc3,Nd4,Na4,Nxa4+,Rxa4,Rhb8,Nc4,f6,Rxa5,Rxa5,Nxa5,Ra8,Nc4,Rg8,c3,Ne6,b4,Rb8,Na5,Rc8,c4,Nd4,Kc3,Ra8,Ra2,Ke6,Ra1,g5,hxg5,fxg5,Nb3,Rxa1,Nxa1,h4,Nc2,Nxf3,b5,cxb5,cxb5,g4,Ne3,h3,gxh3,gxh3,Nf1,h2,Ng3,Nd4,b6', 'Ne2+,Kb2,Nxg3', 'https://lichess.org/training/JDxTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JDyWF', 'Rapid', 'avdo88', 1879, 'DewangG', 1771, 'Nf3,c6,e4,d5,e5,Bf5,d4,e6,c4,Nd7,cxd5,cxd5,Nc3,Bb4,Be2,Ne7,O-O,Bg4,Bg5,Bxf3,Bxf3,Qb6,Rb1,Nf5,a3,Be7,Bd2,Nxd4,Be3,Nxf3+,Qxf3,Qc7,Nb5,Qxe5', 'Bf4,Qf5,Nc7+', 'https://lichess.org/training/JDyWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdZ1q', 'Blitz', 'JCookie27', 1613, 'Arxhes', 1593, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,f5,Bb5,fxe4,Bxc6+,bxc6,Nxe4,d5,Nxc5,e5,d4,Bg4,fxe5,Bxf3,Qxf3,Qh4+,g3,Qxd4,e6,Bxc5', 'Qf7+,Kd8,Qd7#', 'https://lichess.org/training/jdZ1q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jdZ9M', 'Rapid', 'SAA99', 1671, 'TakhirUrazimbetov', 1812, 'e4,e5,Bc4,Nc6,Nc3,Nf6,Nf3,Be7,d3,d6,h3,O-O,O-O,h6,a3,Be6,Bxe6,fxe6,Nh2,d5,exd5,exd5,Qf3,e4,dxe4,Nxe4,Qg4,Nxc3,Bxh6,Bf6,bxc3,Bxc3,Rad1,Qf6,Bg5,Qf5,Qf3,Qxg5,Qxc3,d4,Qb3+,Kh7,Qxb7,Ne5,Rxd4,Rab8,Qxa7,Rb2,Qxc7,Rf7,Qc5', 'Nf3+,Nxf3,Qxc5', 'https://lichess.org/training/jdZ9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Je06z', 'Rapid', 'AlcianGreen', 2169, 'qwts', 2206, 'e4,e6,Nf3,d5,d4,Nf6,Nc3,Bb4,a3,Bxc3+,bxc3,Nxe4,Qd3,Nd7,Be2,a5,h4,b6,Ng5,Ba6,Qf3,Ndf6,Bxa6,Rxa6,c4,dxc4', 'Nxe4,Nxe4,Qxe4', 'https://lichess.org/training/Je06z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('je1lq', 'Classical', 'Aliayoud', 1647, 'Raki89', 1689, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,b3,Nc6,Bb2,b6,d3,Bb7,e4,e5,Nbd2,Re8,Nc4,d5,Ncxe5,Nxe5,Nxe5,dxe4,dxe4,Nxe4,Qxd8,Raxd8,Nc6,Bxc6,Bxg7,Kxg7,Rfe1,Rd2,f3,Rxc2,fxe4,f5,Rac1,Rxc1,Rxc1,Bxe4,Bxe4,Rxe4,Rxc7+,Kh6,Rxa7,Re2,a4,Rb2,Rb7,Rxb3,a5,Rb2,Rxb6,Ra2,a6,Kg5,Kf1,Kg4,Kg1,f4,Rb4,g5,gxf4,gxf4,Rb7,h5,a7,Kf3,Rb3+,Kg4,Rb7,Kf3,Rb3+,Ke2', 'Rb2+,Rxb2,a8=Q', 'https://lichess.org/training/je1lq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Je3CU', 'Blitz', 'Mehly', 2375, 'hristotz13', 2044, 'b4,e6,Bb2,Nf6,b5,d5,e3,c5,c4,dxc4,a4,b6,Bxc4,Bb7,Nf3,Be7,O-O,Nbd7,Nc3,O-O,d3,Ng4,Nd2,Nge5,f4,Nxc4,Nxc4,Nf6,Qe2,Qc7,a5,Nd5,a6,Bc8,Ne4,Bd7,Be5,Qd8,Rab1,Bf6,Nxf6+,Nxf6,e4,Ne8,f5,exf5,exf5,Nf6,Qb2,Ne8,f6,g6,Rbd1,Be6,Ne3,Nc7,d4,c4,d5,Bd7,Qc1,Ne8,Ng4,Bxb5,Qh6,c3,Qg7+,Nxg7', 'Nh6+,Kh8,fxg7#', 'https://lichess.org/training/Je3CU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jE4ks', 'Rapid', 'Alexander_Kiselev', 2080, 'jrafacruz', 1996, 'e4,c5,Nf3,e6,g3,a6,Bg2,d5,exd5,exd5,d4,c4,O-O,Nf6,b3,b5,a4,Bb7,axb5,axb5,Rxa8,Bxa8,Nc3,b4,Re1+,Be7,Na4,O-O,Ne5,Nbd7,bxc4,dxc4,Bxa8,Qxa8,Nxd7,Nxd7,Rxe7,Qxa4,Bg5,h6,Bxh6,gxh6,Qg4+,Kh8,Rxd7,Qxc2,Qh5,Qg6,Qe5+,Kh7,Qc5,Re8,Qxc4', 'Re1+,Kg2,Qe4+,Kh3,Qf5+', 'https://lichess.org/training/jE4ks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Je4yG', 'Rapid', 'Helaitl', 2041, 'sotolagg_reformed', 1881, 'g3,g6,Bg2,Bg7,d3,Nf6,Nf3,O-O,O-O,d6,c4,e5,Nc3,Nbd7,Rb1,b6,Nxe5,Rb8,Nxd7,Qxd7,e4,Bb7,Nd5,Nxd5,exd5,Qf5,b3,Rfe8,Qf3,Qd7,Bb2,Bxb2,Rxb2,Rbc8,Re2,c6,Rfe1,cxd5,Rxe8+,Rxe8,Rxe8+,Qxe8,Qe3,Qxe3,fxe3,dxc4,Bxb7', 'c3,Kf2,c2', 'https://lichess.org/training/Je4yG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('je5if', 'Rapid', 'MaestroFetos', 2431, 'Tacos2Viandes', 2282, 'd4,Nf6,c4,c5,e3,g6,Nc3,Bg7,Nf3,O-O,Be2,cxd4,exd4,d6,O-O,Nc6,a3,a5,Qc2,Bg4,Be3,Rc8,Rad1,d5,c5,b6,Na4,bxc5,Nxc5,Bf5,Qa4,Ng4,Ba6,Rc7,Bf4,e5,dxe5,Ncxe5,Nxe5,Nxe5,Nd3,Qh4,b3,Bxd3,Bxd3,Rc3,Bb5,Qh5,Rxd5', 'Nf3+,gxf3,Qxd5', 'https://lichess.org/training/je5if');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jE6lX', 'Classical', 'MadMox', 1960, 'BEHN', 1825, 'Nf3,d5,d4,Nf6,c4,c6,Nc3,dxc4,a4,Bf5,Nh4,Bg6,Nxg6,hxg6,e4,e6,Bxc4,Bb4,Qd3,a5,O-O,Qc7,e5,Nd5,Nxd5,cxd5,Bb5+,Nc6,Bf4,O-O,Rac1,Qb6,Rfd1,Rfc8,Be3,Na7,Bd7,Rd8,Bb5,Nxb5,axb5,Rdc8,g3,Rc7,Rxc7,Qxc7,Rc1,Qd7,b6,Ra6', 'Rc7,Qxc7,bxc7', 'https://lichess.org/training/jE6lX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('je7rn', 'Rapid', 'Sunguralp09', 1947, 'tethys1', 1769, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bg5,Be7,Ndb5,d5,exd5,Nxd5,Bxe7,Ncxe7,Bc4,a6,Nd4,Bd7,O-O,O-O,Qe2,Nc6,Rad1,Qb6,Nxc6,Bxc6,Nxd5,Bxd5,Bxd5,exd5,c3,Qe6,Qf3,Rfd8,Rfe1,Qc6,Rd2,Rd7,Qe3,Rd6,Red1,Rad8,Qe5,f6,Qe7', 'Re8,Qxd6,Qxd6', 'https://lichess.org/training/je7rn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jE7V4', 'Rapid', 'YouMing', 2071, 'Legendkula2020', 1752, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,c3,dxc3,Nxc3,Bb4,O-O,Bxc3,bxc3,d6,Re1,b6,e5,Nce7,exd6,cxd6,Nd4,Nf6,Nc6,Be6,Bxe6,Nxc6,Bd5+,Ne7,Bxa8,Qxa8,Qxd6,Nd5,Ba3,O-O,Rxe7,Nxe7,Qxe7,Re8,Qh4,Qd5,Qd4,Qe6,h3,Qg6,Rd1,Qc2,Qd2,Qa4,Qd7', 'Re1+,Rxe1,Qxd7', 'https://lichess.org/training/jE7V4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JE8Xw', 'Blitz', 'fasaabbas2000', 1932, 'Carlsen28', 2142, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Nf3,Be7,g3,O-O,Bg2,c6,O-O,Bf5,Qb3,Qb6,Na4,Qxb3,axb3,Nbd7,Ne5,Nxe5,dxe5,Nd7,f4,Bc2,e3,Bxb3,e4,dxe4,Bxe4,Bxa4,Rxa4,Nc5,Rd4,Nxe4,Rxe4,Rfd8,Kg2,Bc5,b4,Bb6,Kf3,Rd3+,Kg4,Rad8,e6,fxe6,Rxe6,Kf7,Rfe1,R8d7,R6e5,Rd1', 'Rf5+,Kg8,Re8#', 'https://lichess.org/training/JE8Xw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Je9jL', 'Rapid', 'Nekedisjo', 1919, 'pupkin67', 1835, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,d5,a3,Bxc3+,bxc3,O-O,cxd5,Nxd5,e4,Nf6,Bd3,h6,Ne2,Nbd7,O-O,c5,Be3,cxd4,cxd4,Nb6,a4,Bd7,a5,Nc8,Qc2,Bc6,Rfd1,Qe7,d5,exd5,Bc5,Nd6,Nd4,dxe4,Nxc6,bxc6,fxe4,Rfd8,Qa4,Qe5,Qxc6,Rac8,Bxd6,Qxd6', 'Qxd6,Rxd6,e5,Rxd3,Rxd3', 'https://lichess.org/training/Je9jL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JeBZY', 'Classical', 'andyhoff', 1800, 'caoszeta', 1824, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Be2,cxd4,cxd4,Nh6,Bxh6,Qxb2,Bxg7,Bxg7,Nbd2,Nxd4,Nxd4,Qxd4,Nf3,Qc3+,Nd2,Bxe5,Bb5+,Bd7,Bxd7+,Kxd7,O-O,Ke7,Rb1,b6,Nf3,Bd6,Re1,Kd7,Qa4+,Qc6,Qh4,Rag8,Qf6,Ke8,Rbc1,Qd7,Nd4,Be7,Qf4,Bd6,Qe3,Bc5,Qc3,Bxd4,Qxd4,Ke7,Rc2,Rc8,Rec1,Rxc2,Rxc2,Rc8,Qh4+,Kd6,Qf4+,e5', 'Qf6+,Qe6,Qxe6+,Kxe6,Rxc8', 'https://lichess.org/training/JeBZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JEc0H', 'Rapid', 'trikismitis13', 2059, 'FloatingSignifier', 1861, 'e4,g6,d4,Bg7,Be3,Nf6,Bd3,d6,h3,O-O,Nd2,Nbd7,Ngf3,c5,c3,a6,O-O,Qc7,Rc1,b6,Ng5,Bb7,f4,h6,e5,dxe5,fxe5,Nxe5,dxe5,Qxe5,Nge4,Nxe4,Bf4,Qd5,Bxe4,Qd7,Bxb7,Qxb7,Nf3,Rad8,Qc2,Rfe8,Rcd1,Rxd1,Rxd1,e5,Be3,e4,Nh2,f5,Rd6,Kh7,Qd2,Re7,Qd5,Qc7,Rd8,Rf7,Qd6,Be5,Qxc7,Bxc7,Re8,f4,Bxc5,e3,Bxe3,fxe3,Rxe3,Rd7,Re2,Rd1+,Nf1,Bd6,Rd2', 'Bc5+,Kh2,Rxf1', 'https://lichess.org/training/JEc0H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JeCBt', 'Rapid', 'Farouk1975', 1820, 'Gonzalo56', 1922, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,c6,e3,Be7,h3,Nbd7,Nf3,O-O,Bd3,Re8,O-O,h6,Bh4,Nf8,Bxf6,Bxf6,Qc2,Ne6,e4,dxe4,Nxe4,Nf4,Nxf6+,Qxf6,Ne5,Nxd3,Qxd3,Be6,f4,Rad8,Rf2,c5,f5,Rxd4,Qe3,Bc4,Nxc4,Rxe3,Nxe3,Qb6,Rc1,Qa5,a3,Rd2', 'Nc4,Rxf2,Nxa5', 'https://lichess.org/training/JeCBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JecGj', 'Classical', 'benboiss', 1872, 'mehmetdeveli', 1737, 'd4,d6,c4,g6,Nc3,Bg7,Nf3,Nf6,e4,c5,dxc5,Qa5,Bd3,Qxc5,O-O,O-O,Be3,Qb4,Qd2,Be6,a3,Qa5,b4,Qc7,Rac1,Ng4,Nd5,Qd7,Bd4,Ne5,Nxe5,dxe5,Be3,Nc6,Bb1,Nd4,Bxd4,exd4,f4,f5,Rce1,Bf7,exf5,e6,fxe6,Bxe6,Be4,Bxd5,Bxd5+,Kh8,Re4,Qa4,Qd3,Rab8,Rfe1,Qd7,Re7,Qd6,g3,Qf6,Bxb7,g5,Rc7,gxf4,Ree7,fxg3,Rxg7', 'Qf2+,Kh1,Qxh2#', 'https://lichess.org/training/JecGj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jeDnb', 'Classical', 'Hasanhusen', 1866, 'Kuhum2', 1869, 'd4,d5,e3,c6,f4,Nf6,Nf3,Bf5,Bd3,Bxd3,Qxd3,Nbd7,O-O,Ne4,Nbd2,Ndf6,c3,e6,Ng5,Nxd2,Bxd2,h6,Nf3,Ne4,Be1,c5,Nd2,f5,Nxe4,dxe4,Qb5+,Qd7,Qe2,cxd4,cxd4,Rc8,Rd1,Be7,Qh5+,Kf8,Bc3,Bf6,Bb4+,Be7,Bxe7+,Kxe7,Qg6,Rhg8,d5,exd5,h3,Qe6,Qh5,Rh8,b3,Rc2,Rf2,Rhc8,Rfd2,Rxd2,Rxd2,Rc1+,Kh2,Re1', 'Qh4+,g5,Qxe1', 'https://lichess.org/training/jeDnb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JEdqv', 'Blitz', 'thejusnit', 2005, 'RosanC', 2005, 'd4,d5,Nf3,c6,Bf4,Bg4,Ne5,Bc8,e3,Nf6,c4,e6,Nc3,Nbd7,Bd3,Be7,h3,h6,O-O,O-O,Rc1,Re8,a3,Nf8,b4,a6,Qb3,Bd6,a4,Nh5,Bh2,f6,Ng6,Bxh2+,Kxh2,f5,cxd5,Nxg6,dxc6,bxc6,Bxf5,Nf8,Rfd1,Nf6,e4,Rb8,e5,Nd5,Nxd5,cxd5,Bb1,Qb6,Qd3,Qxb4,Rc7,Rb7,Rdc1,Rxc7,Rxc7,Qxa4,Qg3,Bd7,Rc3,Qxd4,Rf3,Qb2,Bd3,Bb5,Qf4,Rb8', 'Qf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/JEdqv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jedxj', 'Rapid', 'sheotty', 1898, 'Mari_Adrian_AG', 2128, 'd4,g6,Nf3,Bg7,Bf4,d6,e3,Nf6,c4,Nh5,Nc3,Nxf4,exf4,Nc6,Be2,Bg4,h3,Bxf3,Bxf3,Nxd4,Bxb7,Rb8,Bf3,Rxb2,Nb5,Nxf3+,Qxf3,Rxb5,Qc6+,Qd7,Qa8+,Qd8,Qc6+,Kf8,Qxb5,Bxa1,O-O,Kg7,Rxa1,Qb8,Qd5,e6,Qd4+,f6,Re1,Re8,c5,dxc5,Qxc5,Qb6,Qc3,Kf7,g4,h6,h4,Qd6,Qc4,Qd5,Qxc7+,Re7,Qc3,Qxa2,f5,gxf5,gxf5,e5,Qe3,Kg7,Qg3+,Kh7,Qg6+,Kh8,Qxf6+,Rg7+,Kf1,Qc4+,Re2,Kh7,Qxe5,Qxh4,Qe4,Qh3+,Ke1,Qc3+,Kf1,Qf6,f3,Rc7,Qe3,Qxf5,Qe4,Qxe4,fxe4,Kg6,Kf2,Rc3,Ra2,Rc7,Ke3,h5,Kf4,Rf7+,Kg3,Kg5,Ra5+,Kf6,Kh4,Re7,Kxh5', 'Re5+,Rxe5,Kxe5', 'https://lichess.org/training/jedxj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JeFzU', 'Rapid', 'Abang_raizal', 1715, 'chrisdon', 1641, 'Nf3,d5,d4,c6,Bf4,Nf6,h3,Qb6,b3,Bf5,e3,Qa5+,Nbd2,Ne4,Qc1,e6,a3,c5,Be2,cxd4,Nxd4,Nxd2,Qxd2,Qxd2+,Kxd2,Bg6,Nb5,Na6,Rhc1,Be7,Bd6,Bd8,Nd4,Bc7,Bb5+,Kd8,Bxa6,Bxd6,Bxb7,Rb8,Bc6,e5,Nb5,Bc5,b4,a6,bxc5,axb5,Bxd5,f6,g4,Rf8,Rab1,Kc7,e4,Rfd8,Rb3', 'Bxe4,c4,bxc4', 'https://lichess.org/training/JeFzU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jeGDv', 'Rapid', 'scaccofelice', 1692, 'rom_mys_22', 1718, 'e4,d5,exd5,Qxd5,Nf3,g6,Nc3,Qd8,d3,Bg7,Bd2,Bg4,h3,Bxf3,Qxf3,Nc6,O-O-O,Nf6,g4,Qd4,Bg2,e6,g5,Nd7,h4,h5,Qg3,O-O,f4,a5,a3,Nc5,Be3,Qd6,Qf2,Na6,d4,Rfd8,Ne4,Qe7,Nc3,Rd7,Nb5,Rad8,c3,Ncb8,Bxb7', 'c6,Bxc6,Nxc6', 'https://lichess.org/training/jeGDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jeGMh', 'Classical', 'Yaroslav_Lushchan', 1811, 'Raiyuki', 1961, 'e4,d5,exd5,Nf6,Nc3,e6,dxe6,Bxe6,Nf3,Bb4,Bb5+,c6,Ba4,Qe7,a3,Bxc3,dxc3,Bb3+,Qe2,Qxe2+,Kxe2,Bxa4,b3,Bb5+,Kd2,O-O,Re1,c5,c4,Bc6,Ke2,b5,Ne5,Bxg2,cxb5,Re8,Kd2,Nbd7,Nxd7,Rxe1', 'Nxf6+,gxf6,Kxe1', 'https://lichess.org/training/jeGMh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JEgzs', 'Rapid', 'clevereduardo', 1917, 'kubasow-60', 1887, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Nc3,Be7,Qf3,O-O,Bg5,Qd7,Rad1,Qg4', 'Qxg4,Nxg4,Bxe7', 'https://lichess.org/training/JEgzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jeITk', 'Classical', 'ibrahimsabirturqay', 1817, 'sinanna', 1950, 'd4,d5,c4,c6,Nf3,Nf6,cxd5,cxd5,g3,Bf5,Bg2,Bxb1,Rxb1,Qa5+,Bd2,Qxa2,O-O,e6,Qc2,Qc4,Qc3,Nc6,Rfc1,Qxc3,bxc3,b6,c4,dxc4,Rxc4,Ne7,Ne5,Ned5,e4,Ne7,Rbc1,Nd7,Nxd7,Kxd7,Rc7+,Kd8,Bb4,Nc6,e5,Kxc7,Rxc6+,Kb8,Bxf8,Rxf8,Rd6,b5,Ra6,Rd8,Rd6,Rxd6,exd6,a5,Bxa8,a4,d7,Kc7,Bc6', 'a3,Bxb5,a2,d8=Q+,Kxd8', 'https://lichess.org/training/jeITk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JejT7', 'Rapid', 'peytonbenac', 1789, 'Mestrefloripa', 1869, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,f3,c6,Be3,e6,e5,Ne8,Qd2,d5,c5,Nd7,O-O-O,b6,Bd3,bxc5,dxc5,Nxe5,f4,Nxd3+,Qxd3,Nc7,Nf3,a5,Nd4,Ba6,Qc2,Qd7,Na4,Rab8,Nb6,Qe8,h4,e5,fxe5,Bxe5,Rhe1,Bg3,Qd2,Bxe1,Rxe1,Ne6,Bh6,Bb7,Bxf8,Qxf8,Nd7,Qe7,Nxb8,Qxc5+,Kb1,Nxd4,Re8+,Kg7,Qc3,Qxc3,bxc3,Nf5,Nd7,Nxh4,Nc5,Nxg2,Nxb7,h5,Nxa5,c5,Nc6,h4,a4', 'h3,a5,h2', 'https://lichess.org/training/JejT7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JeK4q', 'Rapid', 'Ibeabuchi', 1894, 'DmitriiyFedotov', 1873, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,c6,Nf3,Nf6,O-O,Bg4,Be2,e6,d3,Nbd7,Bd2,O-O-O,Ne4,Qh5,h3,Bxh3,gxh3,Qxh3,Nh2,Nxe4,dxe4,Bd6,f4,Qg3+,Kh1,e5,Rg1,Qh3,Bg4,Qh4,Qe1,Qf6,Bxd7+,Rxd7,f5,h6,Rd1,g6,Qe3,b6,fxg6,fxg6,Rdf1,Qe6,Ng4,g5,b3,Bc5,Qf3,Bxg1,Kxg1,Rxd2,Qh3,Rxc2,Rf6,Qd7,Rf5,Rxa2,Nxe5,Ra1+,Kg2,Ra2+,Kg3,Qd4,Rf8+,Kb7', 'Qc8#', 'https://lichess.org/training/JeK4q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JElKJ', 'Rapid', 'FischersProdigy', 1616, 'gholt', 1608, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bf4,O-O,Nf3,Nh5,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Nf6,Bxf6,Bxf6,Qh5,Bxd4,Bd3,e5,O-O,Qf6', 'Nd5,Qg6,Ne7+,Kg7,Nxg6', 'https://lichess.org/training/JElKJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jEmG4', 'Rapid', 'Budetlyanin1982', 1852, 'ifekali', 1852, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,Be3,Be7,d5,c6,Bc4,cxd5,Nxd5,Nxe4,Nxe7,Qxe7,O-O,Ndf6,Ng5,Nxg5,Bxg5,h6,Bh4,g5,Bg3,Ne4,Qd3,f5,f3,Nc5,Qc3,Bd7,b4,Na4,Qb3,O-O-O,b5,Nc5,Qa3,Kb8,Bf2,b6,Bxc5,dxc5,Rfe1,Qf6,Qb2,Rhe8,a4,Be6,Bxe6,Qxe6,a5,c4,axb6,Qxb6+,Kh1,Rd5,Reb1,Rd2,Ra6,Qf2,Rg1,Rxc2,Qa3,Rd8,b6,Rb2,Rxa7,Qxb6,Ra8+,Kc7,Qe7+,Rd7,Qxe5+,Rd6,Qxf5', 'Qxg1+,Kxg1,Rd1#', 'https://lichess.org/training/jEmG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jEmKN', 'Rapid', 'MulletHeadMike', 1765, 'spitza', 1770, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nge2,O-O,Ng3,c5,d5,a6,Be3,Qb6,Qd2,Ng4,Na4,Qd8,h4,e6,Bg5,f6,Be3,exd5,cxd5,f5,h5,Nxe3,fxe3,fxe4,Nxe4,Bf5,Bd3,b5,Nac3,c4,Bc2,Bxe4,Nxe4,Bxb2,Rb1,Bh8,hxg6,h6,Rxh6,Qe7,Rh7,Qe5,Qd4,Qxd4,exd4,Re8,Kd2,Bg7,Nxd6,Re7,Nf5,Rd7,Be4,Raa7,d6,Bxd4,Bd5+,Kf8,Rbh1,Rxh7,gxh7,Bh8,Be4,Rf7,Nh6,Rf6,Ke3,Nd7,Rh3,Ne5,g4', 'Rxh6,Rxh6,Nxg4+,Kf4,Nxh6', 'https://lichess.org/training/jEmKN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JEmnO', 'Rapid', 'serdar110', 1942, 'WitNik', 1838, 'e4,e5,f4,d6,Nf3,Bg4,Be2,h6,O-O,Nf6,Nc3,Be7,fxe5,dxe5,Nxe5,Bxe2,Qxe2,O-O,d3', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/JEmnO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JEN2n', 'Rapid', 'ReallyFastMoves', 2193, 'Fikry_89', 2212, 'd4,Nf6,Nf3,d6,c4,Nbd7,Nc3,e5,e4,exd4,Nxd4,g6,Be2,Bg7,O-O,c6,Nc2,Qc7,Bf4,Ne5,h3,Nh5,Bxh5,gxh5,Bxe5,Bxe5,Qxh5,Be6,Ne3,O-O-O,Rac1,Qb6,b3,Qa5,f4', 'Bxc3,Qxa5,Bxa5', 'https://lichess.org/training/JEN2n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jene1', 'Rapid', 'b2ysky', 1665, 'Dinotoad', 1740, 'e4,c5,f4,d6,Nf3,Nf6,e5,dxe5,fxe5,Nd5,c4,Nb6,Nc3,Nc6,h3,g6,d3,Bg7,Bf4,O-O,Be2,Bd7,O-O,e6,a3,Qc7,Nb5,Qb8,Nd6,Nc8,Nxc8,Rxc8,Qd2,Nxe5,Qe3,f6,d4,cxd4,Qxd4,g5', 'Bxe5,fxe5,Qxd7', 'https://lichess.org/training/Jene1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jeNiR', 'Bullet', 'Wassmann', 1867, 'Piscui', 1858, 'e4,c5,Bc4,Nc6,Nc3,g6,a3,Bg7,d3,d6,Nf3,Nf6,Bg5,a6,Nd5,O-O,c3,Nxd5,Bxd5,Qc7,h4,e6,Ba2,b5,h5,b4,hxg6,hxg6,Bh6,bxc3,Bxg7,Kxg7,bxc3,Rh8,Rxh8,Kxh8,Ng5,Bb7,Qf3,Ne5,Qh3+,Kg8,Qh7+,Kf8,Bxe6,Qe7,d4,Qxg5,dxe5,fxe6,Qxb7,Rd8,Qc7,dxe5,Qxc5+,Kg7,Rb1', 'Qd2+,Kf1,Qd3+,Kg1,Qxb1+', 'https://lichess.org/training/jeNiR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jEOaU', 'Rapid', 'KonukOyuncu1994', 2094, 'huskyyy', 2086, 'f4,e5,fxe5,d6,exd6,Bxd6,Nf3,Nc6,e3,Nf6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,b3,Qd7,Bb2,O-O-O,c4,Qg4,Qe2,h5,d4,Be4,Nbd2,h4,Nxe4,Nxe4,c5,Bxh2+,Kxh2,Qg3+,Kg1,h3,Ne5,h2+,Kh1,Qh4,Rf3,Ng3+,Rxg3,Qxg3,Qg4+,Qxg4,Nxg4,Rde8,Re1,Re4,Ne5,f6,Nf3,Rhe8,Bc1,Rh8,g3,g5,Nxh2,Rhe8,Kg2,Rxd4,Re2,Rd5,b4,a5,a3,axb4,axb4,Rd3,Kf2,Rb3,Rb2,Rc3,Bd2,Rd3,Nf3,Red8,Nd4,Ra3,b5,Ra1,g4,Rh1,c6,Rdh8,Ra2,Kb8,cxb7,Kxb7,Kf3,R8h2,Ke4,Rg2,Kd5,Rd1,Nb3,Rxg4,Rc2,Rb1,Nd4,Rg2,Ba5', 'Rxc2,Nxc2,Rxb5+', 'https://lichess.org/training/jEOaU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JEoDN', 'Rapid', 'Iamonfire234', 1727, 'Coroneti', 1740, 'e4,g6,d4,Bg7,Nf3,d5,exd5,Qxd5,c4,Qd8,Nc3,Bg4,Bf4,c6,h3,Bxf3,Qxf3,Qxd4,Bc7,Nf6', 'Rd1,Qd7,Rxd7', 'https://lichess.org/training/JEoDN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JEouR', 'Classical', 'Jacosan9', 1662, 'EDAM72', 1633, 'e4,a5,Nf3,d6,Bc4,Nf6,d3,Bd7,Ng5,e6,Nc3,Bc6,O-O,Bd7,Be3,c6,Qf3,b5,Bb3,a4,Nxa4,bxa4,Bc4,h6,Nh3,Be7,Nf4,c5,e5,Bc6,Bb5,d5,Bxc6+,Nxc6,exf6,Bxf6,Bxc5,Bxb2,Rab1,Bf6,Rfe1,Be7,Bb6,Qc8,Nh5,O-O,Qg3,g6,Be3,Kh7,Nf4,Nb4,Qh3,Rg8,Ne2,h5,Nd4,Nxc2,Rec1,Rb8,Rxb8,Qxb8,Nxc2,Rc8,Qf3,Kg8,h3,Qb2,Qd1,Qxa2,Nb4', 'Rxc1,Qxc1,Bxb4', 'https://lichess.org/training/JEouR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jeouv', 'Bullet', 'Medvedev__1204', 1753, 'volodymyr_marchuk', 1613, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nge7,Bg5,O-O,O-O,h6,Bh4,d6,Nc3,Be6,Bb3,Nd4,Nxd4,exd4,Nd5,Bxd5,Bxd5,c6,Bb3,a5,a3,b5,c3,Qd7,cxd4,Bxd4,Qd2,Ng6,Bg3,c5,Bd5,Rae8,Kh1,b4,axb4,cxb4,f4,a4,Qxb4,Bc5,Qd2,Kh7,f5,Ne5,Qa5,Ra8,Qd2,a3,bxa3,Rxa3,Rxa3,Bxa3,Bxe5,dxe5,Rb1,Bc5,Rb7,Qe8,h3,Bd4,Qa5,f6,Qa6,Qh5,Qe6,Qd1+,Kh2,Qg1+,Kg3,Qf2+,Kh2,h5,Rxg7+,Kxg7', 'Qe7+,Kh6,Qxf8+,Kg5,Qg7+,Kf4,Qh6#', 'https://lichess.org/training/jeouv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jEpch', 'Rapid', 'kral4134', 1922, 'hsolitario', 1943, 'd4,Nf6,e3,g6,c4,Bg7,h4,c5,Nc3,cxd4,exd4,d5,c5,Nc6,Be3,a6,Be2,e5,dxe5,Nxe5,h5,Nfg4,hxg6,Nxe3,fxe3,fxg6,Qxd5,Qf6,Rd1,Be6,Qxb7,O-O,Ne4,Qf5,Nf3,Nxf3+,Bxf3,Rad8,Nd6,Qe5,Ke2,Qxc5,Qxa6,Rxd6,Qxd6,Bc4+,Kf2,Qb5,b3,Bf7,Qc7,Qf5,Rd8,Be5,Rxf8+,Kxf8,Qc5+,Kg7,g4', 'Bg3+,Kxg3,Qxc5', 'https://lichess.org/training/jEpch');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JePeI', 'Blitz', 'undercovernerd', 2050, 'R4faelgonzalez315', 2141, 'd4,c5,Nc3,cxd4,Qxd4,Nc6,Qa4,b5,Qxb5,Nf6,e4,Nd4,Qd3,e5,f4,d6,Nf3,Nxf3+,Qxf3,Be7,Bb5+,Bd7,Bxd7+,Nxd7,O-O,O-O,f5,Bf6,g4,Bg5,Bxg5,Qxg5,Kh1,Nf6,h3,Rab8,Rad1,Rxb2,Rxd6,Rxc2,Rxf6,Qxf6,Nd5,Qa6,f6,Qe2', 'Ne7+,Kh8,fxg7+,Kxg7,Qf6#', 'https://lichess.org/training/JePeI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jEqoF', 'Rapid', 'ALEXTKD72', 1779, 'asyraqhalthegame99', 1722, 'e4,c5,Nf3,Nc6,Nc3,e6,Bb5,Nd4,Nxd4,cxd4,Ne2,e5,c4,a6,Ba4,Qh4,O-O,Qxe4,d3,Qg6,Ng3,Nf6,f3,Be7,Ne4,O-O,a3,d5,cxd5,Nxd5,Bb3,Nf4,Bxf4,exf4,Bc4,Bh3,Qd2,b5,Bd5,Rac8,Rac1,Rxc1,Rxc1,b4,axb4,Bxb4,Qe2,h6,b3,a5,Qf2,Re8,g4,fxg3,Qxg3,Qh5,Bc4,Be6,Kg2,Bxc4', 'Nf6+,Kf8,Nxh5', 'https://lichess.org/training/jEqoF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JerqY', 'Rapid', 'coolcoolguy', 1612, 'bg_stallion', 1629, 'c4,e5,Nc3,Nf6,e3,Nc6,d4,Bb4,a3,Bxc3+,bxc3,d6,d5,Ne7,Bd3,c6,dxc6,bxc6,Ne2,O-O,O-O,Bf5,h3,Bxd3,Qxd3,h6,Rd1,d5,cxd5,cxd5,Bb2,Rb8,Qc2,Nf5,c4,e4,Bxf6,Qxf6,cxd5,Rfc8,Qxe4,Rb2,Re1,Nd6,Qf4', 'Rxe2,Qxf6,Rxe1+,Rxe1,gxf6', 'https://lichess.org/training/JerqY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jEtee', 'Rapid', 'yhuss', 1735, 'kksubbu1234', 1732, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,Ba4,Nf6,d3,Be7,Nbd2,O-O,Nf1,h6,Ne3,a6,O-O,b5,Bc2,b4,d4,bxc3,bxc3,exd4,cxd4,Bg4,h3,Bxf3,gxf3,d5,e5,Nd7,Nxd5,Nb6,Nxe7+,Qxe7,Be4,Qd7,Kh2,Rad8,Bxc6,Qxc6,Rg1,g5,h4,Qc3,Be3,Nd5,Bd2,Qxd4,hxg5,Qxf2+,Kh1,Qh4+,Kg2,hxg5,Bxg5,Nf4+,Kf1,Rxd1+,Rxd1,Qh3+,Ke1,Ng2+,Kf2,Kh7', 'Rh1,Qxh1,Rxh1+', 'https://lichess.org/training/jEtee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JEThV', 'Bullet', 'skillshot181', 1600, 'Tatiana345', 1547, 'e4,e5,d3,Nc6,f4,d6,Nf3,Bg4,Be2,Qd7,h3,Bh5,Be3,O-O-O,Nbd2,Nd4,Nxd4,exd4,Bxd4,Bxe2,Qxe2,Nf6,Bxf6,gxf6,Nf3,d5,O-O-O,dxe4,dxe4,Qe8,Rxd8+,Qxd8,Rd1,Qe8,e5,Bg7,Qd2,fxe5,Nxe5,Bxe5,fxe5,Qxe5', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/JEThV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JEuRB', 'Blitz', 'sflupperson', 1694, 'tr78', 1652, 'f4,d5,Nf3,c5,e3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,b3,e6,Bb2,Bd6,d3,Qc7,Nbd2,O-O,Ng5,h6,h4,d4,Nde4,dxe3,Nxf6+,Nxf6,Bxf6,gxf6,Ne4,Bxf4,Qg4+,Kh8,Nxf6,Bg3+,Ke2,Qf4,Qxf4,Bxf4,Rh3,Kg7,Nh5+,Kg6,Nxf4+,Kf5,Rf1,Rg8,Nh5+,Kg6,Nf4+,Kf5,Nd5+,Ke5,Nc7,Rac8,Nb5,Rxg2+,Kxe3,Rxc2,Rxf7,Rg8,Rhf3,Rgg2,d4+', 'cxd4+,Nxd4,Rc3#', 'https://lichess.org/training/JEuRB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jEuUe', 'Blitz', 'FM ril-1997', 2465, 'muftakiskv', 2387, 'e4,g6,Nc3,Bg7,d4,c6,Bc4,d6,Nf3,Nf6,h3,O-O,O-O,b5,Bd3,a5,Ne2,a4,Ng3,Nbd7,Re1,e5,dxe5,dxe5,c3,Qe7,Be3,Nc5,Bc2,Rd8', 'Bxc5,Rxd1,Bxe7', 'https://lichess.org/training/jEuUe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jeUWa', 'Rapid', 'shotachkonia', 2478, 'blackmamba1387', 2465, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,c5,c3,Nc6,Nbd2,cxd4,cxd4,Bd6,Bxd6,Qxd6,Be2,O-O,O-O,e5,dxe5,Nxe5,a3,Bf5,Nd4,Bd3,Rc1,Rac8,Re1,Rxc1,Qxc1,Bxe2,Rxe2,Nfg4,N2f3,Qh6,h3,Nd3,Qd2,Nge5,Nxe5,Nxe5,Nf5,Qe6,Nd4,Qg6,Qc2,Qd6,Qb3,Qd7,Qb5,Qxb5,Nxb5,Nc6,Rd2,Rd8,b4,a6,Nd4,Ne5,a4,Kf8,b5,axb5,axb5,Ke7,Ra2,Nd7,Ra7,Nc5', 'Nc6+,Ke8,Nxd8', 'https://lichess.org/training/jeUWa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JeXf4', 'Rapid', 'Ydavka', 1600, 'loentuan', 1735, 'e4,b6,d4,Bb7,Nc3,g6,Nf3,Bg7,e5,Nc6,Bc4,d6,Bf4,dxe5,dxe5,a6,Ng5,e6,Bxe6,fxe6,Nxe6,Qxd1+,Rxd1,Kf7,Nxc7,Rd8,e6+,Kf6,N3d5+,Kf5,e7,Ngxe7,Ne3+,Kxf4,g3+,Kf3,O-O,Bxb2,Ne6,Rxd1,Rxd1,Bc8,Ng5+,Ke2,Ne4,Bd4', 'Rd2+,Kf3,Ng5#', 'https://lichess.org/training/JeXf4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jEzHE', 'Rapid', 'ERISSON91', 1906, 'Jacintosax', 1983, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Bd7,O-O,Rc8,a4,cxd4,a5,Nxa5,Nxd4,Nc6,Bb5,Nxe5,Bxd7+,Nxd7,Be3,Bc5,b4,Bxd4', 'Bxd4,Qd6,Bxg7', 'https://lichess.org/training/jEzHE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JeZvL', 'Rapid', 'Dovhyi', 1930, 'deqillkrw', 1932, 'e4,Nc6,d4,d5,c3,e5,dxe5,Nxe5,Qxd5,Bd6,f4,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,Qxb7,O-O,fxe5,Bxe5,Nf3,Ng4,O-O,Qd6,Nxe5,Qxe5,Bf4', 'Qc5+,Kh1,Nf2+,Rxf2,Qxf2,Nd2,Qxf4', 'https://lichess.org/training/JeZvL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jEzzQ', 'Rapid', 'jerry28981', 1717, 'gerede', 1723, 'e4,c5,Nf3,Nc6,c3,e5,d4,cxd4,cxd4,exd4,Nxd4,Bc5,Nxc6,bxc6,Nc3,d6,Bc4,Qh4,O-O,Nf6,g3,Qh3,Bf4,Bg4,Qd3,Bd7,Qf3,Bg4,Qg2,Qh5,h4,Bf3,Qh3,Nxe4,g4,Qxg4+', 'Qxg4,Bxg4,Nxe4', 'https://lichess.org/training/jEzzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jf3qL', 'Rapid', 'BaltazarN', 1894, 'lphantomoftheopera', 2061, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,f3,Be6,Qd2,Nbd7,O-O-O,Qc7,Kb1,O-O,g4,b5,g5,b4,Ne2,d5,gxf6,Nxf6,Bg5,d4,h4,Rfc8,Bh3,Bxh3,Rxh3,a5,f4,Nxe4,Qe1,a4,Na1,b3,Bxe7,bxc2+,Nxc2,Qxc2+,Ka1,Rab8,Ba3,Nf2,Rc1,Qf5,Rg3,Nd3,Rxc8+,Rxc8,Qd2,Nxf4,Nxf4,Rc2,Qd1,exf4,Rf3,Rc8,Bd6,Qd5,Bxf4,a3,Rb3,axb2+,Rxb2,d3,Qd2,Qd4,Be3,Qd5,h5,h6,Rb3,Rd8,Kb2,Qe5+,Kb1,Qd5,Rc3,Rb8+,Ka1,Qh1+,Rc1,Qd5,Rb1', 'Qe5+,Rb2,Rxb2,Qxb2,Qxe3', 'https://lichess.org/training/Jf3qL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JF53k', 'Classical', 'SafinRinatRamilevich', 1868, 'jonny003', 1902, 'e4,c5,Bc4,e6,c3,d5,exd5,exd5,Bb3,Nf6,Nf3,Nc6,d4,c4,Ba4,Be7,Ne5,Qc7,Bg5,O-O,Qd2,Nxe5,dxe5,Qxe5+,Be3,Bc5,O-O,Bxe3,fxe3,Ng4,g3,Nxe3', 'Re1,b5,Rxe3', 'https://lichess.org/training/JF53k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jf5au', 'Rapid', 'WhiteK', 1801, 'kb1113', 1739, 'd4,e6,c4,c6,Nc3,d5,e3,Nf6,Bd3,Be7,Qc2,h6,Nge2,O-O,O-O,b6,e4,dxe4,Nxe4,Bb7,Nxf6+,Bxf6,Be3,Re8,Qc1,Bg5,f4,Bf6,Rf3,c5,Rg3,cxd4,Bd2,Bh4,Rg4,f5,Rg6,Kh7,g3,Kxg6,gxh4,Qxh4,Nxd4,Qg4+,Kf2,Qg2+,Ke3,Nc6,Nf3,Kh7,Qc3,Ne7,Be2,Bxf3,Bxf3,Qxh2,Rh1,Qg3,Be1,Qg6,Bf2,Rac8,Rg1,Qf6,Qc2,g6,b3,b5,Be1,bxc4,bxc4,Nc6,Bc3,Qf7,Rh1,a6', 'Rxh6+,Kxh6,Qh2#', 'https://lichess.org/training/Jf5au');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jf7Go', 'Blitz', 'adrianrauta2019', 1951, 'B-1-S-H-0-P', 1858, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Be7,d3,Na5,Bb3,Nxb3,axb3,O-O,O-O,d5,Nxe5,d4,Ne2,Bg4,f3,Be6,Bg5,Bd6,Ng4,c6,Nxf6+,gxf6,Bh6,Re8,f4,Bf8,Bxf8,Rxf8,f5,Bd7,Nf4,Kg7,Qg4+,Kh8,Nh5,Rg8,Qh4,c5,Nxf6,Rg7,e5,Bc6,Qh6,Qc7,Ne4,Bxe4,dxe4,Qxe5,f6,Rg6,Qh4,Rag8,g3,Rg4,Qh6,R8g6,Qf8+,Rg8,Qxf7,Qxe4,Qe7', 'Rxg3+,hxg3,Rxg3+,Kh2,Qh4#', 'https://lichess.org/training/Jf7Go');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jF7tD', 'Blitz', 'robertoclopes', 1551, 'ANTONSMIRNOV', 1983, 'c4,e5,Nc3,Nc6,d3,f5,Nf3,Nf6,Bg5,Bb4,a3,Bxc3+,bxc3,O-O,Bxf6,Rxf6,Qb3,d6,g3,Qe8,c5+,Kh8,cxd6,cxd6,Bg2,Be6,Qxb7,Bd5,O-O,Rb8,Qa6,e4,dxe4,Bxe4,Nd4,Bxg2,Kxg2,Nxd4,cxd4,Qe4+,Kg1,Qxd4,Rab1,Ra8,Rfc1,Rff8,e3,Qe5,Rc7,Qe4,Rbb7,Rac8,Rxc8', 'Rxc8,Rb4,Rc1+,Qf1,Rxf1+', 'https://lichess.org/training/jF7tD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jF7Vz', 'Rapid', 'Fusiek', 1775, 'michaelLB', 1806, 'd4,d5,c4,Nf6,Nc3,Bg4,h3,Bh5,Bg5,c6,Qb3,Ne4,Nxe4,dxe4,e3', 'Qa5+,Qc3,Qxg5', 'https://lichess.org/training/jF7Vz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jFdiy', 'Classical', 'Gokulpk', 1763, 'Dr_Jyotikrishna18', 1768, 'e4,c5,Nc3,d6,Nf3,e6,d4,Bd7,e5,cxd4,Qxd4,dxe5,Nxe5,f6,Nc4,Nc6,Qd1,a6,Ne4,b5,Ncd6+,Bxd6,Nxd6+,Ke7,b3,Qc7,Ne4,f5,Ng3,f4,Nh5,Qe5+,Be2,Qxa1', 'Ba3+,b4,Qxa1', 'https://lichess.org/training/jFdiy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jfF5s', 'Classical', 'elgoathorn', 1787, 'Narmaldakka', 1853, 'c4,e5,Nc3,f5,g3,Nf6,Bg2,a5,e3,Bc5,d4,exd4,exd4,Ba7,Nf3,O-O,O-O,Nc6,Be3,Ne7,c5,Ng4,a3,Nxe3,fxe3,d6,b4,dxc5,bxc5,Rb8,Nb5,Ra8,Qb3+,Qd5,Rab1,b6,Nxc7,Qxb3,Rxb3,Rb8,Nb5,bxc5,Rfb1,Be6,R3b2,Rb7,Nxa7,Rxa7,Rb8,Nd5,Rxf8+,Kxf8,Kf2,Nc3,Rb8+,Ke7,Ne5,Kf6,Kf3,cxd4,exd4,Bd5+,Kf2,Nd1+,Kg1,Bxg2,Kxg2,Ne3+,Kf3,Nc2,a4', 'Nxd4+,Ke3,Kxe5', 'https://lichess.org/training/jfF5s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JFFDa', 'Rapid', 'lupiana', 1886, 'Pharon_Shams', 1897, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qe2,Qxc6,Nc3,Bb4,Bd2,Nf6,a3,Ba5,O-O-O,O-O,h3,Re8,f3,d6,Qb5,Bxc3,Qxc6', 'Bxd2+,Rxd2,bxc6', 'https://lichess.org/training/JFFDa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jFfr9', 'Blitz', 'Phoenix1986', 1537, 'prakhar451', 1588, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,c3,Bg4,Nbd2,Be7,h3,Be6,Ng5,Bd7,Ba4,h6,Ngf3,Be6,Bc2,Qd7,d4,exd4,cxd4,O-O-O,d5,Ne5,dxe6,Nxf3+,Nxf3,Qxe6,Bb3,Qxe4+,Be3,Qb4+,Nd2,Ne4,O-O,Nxd2,Bxd2,Qh4,Bxf7,Rdf8,Qf3,g5,Kh2,d5,g3,Bd6,Qf5+,Kb8,Kg2,Qd4,Be3,Qxb2,Qd7,Qf6,Bxd5,h5,Qa4,a6,Qb3,b6,Bxb6,cxb6,Qxb6+,Kc8,Rfc1+,Kd7,Qb7+,Ke8,Re1+,Be7,Rxe7+,Qxe7,Re1,Qxe1', 'Bc6+,Kd8,Qd7#', 'https://lichess.org/training/jFfr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jFGPl', 'Rapid', 'emren99', 1900, 'mariaSk', 1715, 'd4,d5,Nf3,e6,Bf4,c5,Nc3,cxd4,Nxd4,Bc5,Ndb5,Qb6,Nc7+,Kd8,Nxa8', 'Bxf2+,Kd2,Qd4+,Kc1,Qxf4+', 'https://lichess.org/training/jFGPl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jFhve', 'Blitz', 'manjust714', 2036, 'INDOIWONG', 1938, 'd4,d5,Nf3,Nc6,e3,Bg4,Nbd2,e5,h3,Bh5,g4,Bg6,Nxe5,Nxe5,dxe5,d4,Nb3,Bb4+,Bd2,dxe3,Bxb4,exf2+,Kxf2,Qh4+,Kg2,Be4+,Kh2', 'Qf2+,Bg2,Qxg2#', 'https://lichess.org/training/jFhve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jfhx9', 'Classical', 'badrany', 1837, 'waelkasio', 1887, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be2,O-O,h3,d6,O-O,h6,Be3,Bd7,Qd2,Nxd4,Bxd4,Nh7,f4,f5,e5,dxe5,Bxe5,Bf6,Bc4+,Kh8,Rad1,Bc6,Qf2,Qe7,Rfe1,Rad8,Bd6,Qxd6,Rxd6,Rxd6,Bd3,Bd4,Qxd4,Rxd4,Re7,Rxf4,Rxc7,Ng5,Ne2,Nxh3+,gxh3,Rf3,Kh2,Rf2+,Kg3,Rg2+,Kh4,Re8,Nd4,f4,Nxc6,bxc6,Rf7,Kg8,Bc4,Kh8,Bd3,Rg3,Rxa7,g5+,Kh5,Rxh3+,Kg6,Rg8+,Kf5,f3,Kg4,Rh4+,Kxf3,Rh3+,Kg2,Rxd3,cxd3,Rg7', 'Rxg7,Kxg7,a4,Kf6,a5', 'https://lichess.org/training/Jfhx9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jfibl', 'Bullet', 'Atakapa', 1850, 'ArchyT', 1826, 'Nf3,g6,e4,Bg7,d4,e6,Nc3,Ne7,g4,O-O,h3,b6,Be3,Bb7,Qd2,d5,e5,Nd7,Bh6,c5,Bxg7,Kxg7,O-O-O,cxd4,Qxd4,Qc7,h4,Qc5,Qd2,d4,h5,dxc3,Qxd7,cxb2+,Kb1,Bxf3,Bd3,Bxd1,Rxd1,Rfd8,Qa4,Qd5,Qf4,Qd4,Qf6+,Kg8,Qxe7,Qxf2,hxg6,hxg6,Kxb2,Qd4+,Kb1,Qxe5,Rh1,Rd5,Bxg6,Rb5+,Kc1,Qa1+,Kd2,Qxh1,Qxf7+,Kh8,Qf6+,Kg8,Bf7+,Kf8', 'Bxe6+,Ke8,Qf7+,Kd8,Qd7#', 'https://lichess.org/training/jfibl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jFJoo', 'Rapid', 'GreenApple3', 1803, 'e2-e4_1-0', 1878, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Qf3,Qxf3,Nxf3,Nc6,Bb5,Bg4,Ne5,Bd7,Nxd7,Kxd7,d4,a6,Ba4,b5,Bb3,e6,c3,Bd6,O-O,Rhe8,Re1,a5,Bd2,a4,Bc2,g6,a3,Na5,Bd3,c6,Bh6,Nb3,Rad1,Bf8,Bf4,h6,Be5,Bd6,h3,Bxe5,dxe5,Ke7,Be4,Rac8,Rd6,c5,Red1,Red8,Bc6,Rxd6,Rxd6,b4,Rd7+,Kf8,Bxa4,bxc3,Bxb3,cxb2,Bc2,c4,Rb7,c3,f3,Rd8,Rb3,Rd2,Rxc3', 'Rxc2,Rb3,Rc1+', 'https://lichess.org/training/jFJoo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jFLzA', 'Blitz', 'Schachwolf24', 2396, 'GM novik70', 2427, 'e4,c6,d4,d5,e5,Bf5,c4,e6,Nc3,Ne7,Nge2,dxc4,Ng3,Bg6,Bxc4,Nd5,O-O,Be7,f4,O-O,f5,exf5,Nxf5,Bxf5,Rxf5,Nxc3,bxc3,Nd7,Qg4,g6,Bh6,Nb6,Bxf8,Nxc4,Bxe7,Qxe7,Rf6,Rf8,Raf1,Kg7,e6,Qxf6,Rxf6,Kxf6,exf7,Rxf7,h4,Kg7,h5,Ne3,Qe4,Rf1+,Kh2,Nf5,hxg6', 'Rh1+,Kxh1,Ng3+,Kg1,Nxe4', 'https://lichess.org/training/jFLzA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jFNe6', 'Rapid', 'Moss_can', 1775, 'franticfox', 1771, 'e4,e6,e5,d5,d4,c5,c3,cxd4,Bb5+,Nd7,Bxd7+,Bxd7,cxd4,Rc8,Ne2,Qb6,O-O,Nh6,b3,Nf5,Be3,Nxe3,fxe3,Be7,Ng3,O-O,Nd2,f6,Nf3,Bb5,Rf2,Rc3,Qe1,Rfc8,Nh5,fxe5,Nxe5,Bd6,Nf7,Be7,Ne5,Bg5,Ng4,e5,Rf5,Bxe3+,Nxe3,Qxd4,Rf3,e4,Rg3,Rf8,Nxg7,Kh8,Kh1,Rxe3,Rxe3', 'Rf1+,Qxf1,Bxf1', 'https://lichess.org/training/jFNe6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jfNnf', 'Rapid', 'omshiva', 1803, 'Suhamdi_Bungo', 1720, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Ng4,h3,h5,c3,Bc5,d4,Bb6,Bg5,f6,Bh4,g5,Bg3,Nh6,dxe5,h4,Bh2,g4,Nxh4,gxh3,g3,Nxe5,Nf5,c6,Ba4,Nxf5,exf5,Qe7,Nd2,d5,Re1,Bxf5,Nf3,O-O-O,Nd4,Be4,Bc2,Bxd4,cxd4,Nf3+', 'Qxf3,Bxf3,Rxe7', 'https://lichess.org/training/jfNnf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JFNxt', 'Rapid', 'MehdiSk', 1948, 'RajMithun', 1958, 'd4,Nf6,c4,e6,Nc3,Bb4,Qb3,c5,Bg5,cxd4,Qxb4,Nc6,Bxf6,Nxb4,Bxd8,Nc2+,Kd2,Nxa1,Bh4,dxc3+,Kxc3,d5,e3,Bd7,Nf3,Rc8,Nd2,dxc4,Be2,b5,Rxa1,a5,Rc1,b4+,Kc2,c3,bxc3,Rxc3+,Kb2,Rxc1,Kxc1,O-O,Nb3,a4,Nd4,e5,Nb5,Rc8+,Kb2,Rc5,Nd6,Rd5,Ne4,Bf5,Bf3,Rd3,Be7,Bxe4,Bxe4,Rd2+,Kb1,a3,Bxb4', 'Rb2+,Kc1,Rxb4', 'https://lichess.org/training/JFNxt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jfoOM', 'Rapid', 'Simongel', 1675, 'adi_nuzam', 1672, 'd4,e5,d5,f5,e3,Bc5,Nf3,d6,Nc3,Nf6,a3,a6,b4,Ba7,Bd3,O-O,e4,fxe4,Nxe4,Bg4,h3,Bxf3,gxf3,Nxe4,Bxe4,Qh4,Rh2,Nd7,Qe2,Nb6,Be3,Na4,Bxa7,Rxa7,Kd2,Raa8,Rg1', 'Qf4+,Qe3,Qxh2', 'https://lichess.org/training/jfoOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jFOZv', 'Rapid', 'wernerbecker', 1683, 'Smart1984', 1692, 'e4,d5,exd5,Qxd5,Qf3,Qxf3,Nxf3,Bf5,c3,Nc6,d4,Nf6,Bb5,Bd7,Ne5,Nxe5,dxe5,Bxb5,exf6,exf6,Be3,Bd6,Nd2,Bd3,O-O-O,O-O-O,Nf3,Be2,Rd2,Bxf3,gxf3,Be5,f4,Rxd2,Kxd2,Bd6,Rg1,Rd8,Kc2,g6,f5,Bxh2,Rh1,Be5,Rxh7,Rf8,Bh6,Rg8,Rxf7,gxf5,f4,Bd6,Rxf6,Rg2+,Kb3,Rh2,Bg5,Rh5,Rxf5,Bxf4,Rxf4,Rxg5,Kc4,Kd7,b3,Ke6,Rd4,b5+,Kb4', 'c5+,Ka5,cxd4', 'https://lichess.org/training/jFOZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jfp3Q', 'Blitz', 'dorvich', 1849, 'IMASeriousPlayer', 1966, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,O-O,Be7,Nf3,O-O,Bg5,h6,Be3,b5,Qd2,Bb7,Bxh6,gxh6,Qxh6,e5,Ng5,Re8,Nd5,Bxd5,exd5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/Jfp3Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JFslJ', 'Rapid', 'PirataLeChuck', 1722, 'hectorsax', 1602, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Bf5,Bc4,Nc6,Ng5,Ne5,Qd5,Qe7,Qxb7,Nxc4+,Kf1,Nb6,Be3,Rd8,Bxb6,axb6,Re1,Be6,Qc6+,Rd7,Nxe6,fxe6,Qa8+,Rd8,Qc6+,Qd7,Rxe6+,Kf7,Qxd7+,Rxd7,Re3,Re7,Ke2,Rxe3+,Kxe3,g6,Re1,Bh6+,Kf3,Rf8,Kg3,Re8,Rxe8,Kxe8,Kf3,Bc1,b3,Bb2,c4,Ke7,Ke4,Ke6,Kd3,Ke5,a4,Bd4', 'f4+,Ke6,Kxd4', 'https://lichess.org/training/JFslJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jfSr7', 'Rapid', 'flyilya', 1796, 'voselok', 1936, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Be3,g6,Bc4,e6,O-O,Bg7,Nc3,Nge7,Qd2,Nxd4,Bxd4,Bxd4,Qxd4,O-O,f4,Nc6,Qf2,Qf6,Rad1,Rd8,g4,a6,e5,dxe5,Rxd8+,Qxd8,fxe5,Qe7,Qf4,b5,Bb3,Bb7,Ne4,Nd4', 'Nf6+,Kg7,Qxd4', 'https://lichess.org/training/jfSr7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jfSzi', 'Rapid', 'Jiff_23', 1694, 'vsmen', 1621, 'e4,e5,Nf3,Nc6,Nc3,d6,Bc4,Bg4,d3,Nf6,h3,Be6,Bb3,Be7,O-O,O-O,Bd2,Qd7,Nh2,Nd4,Nf3,Nxf3+,Qxf3,Bxb3,axb3,c6,Ne2,d5,Ng3,dxe4,Nxe4,Nxe4,Qxe4,Qd5,Bc3,Qxe4,dxe4,f6,Rfd1,Rfd8,Kf1,Kf7,Ke2,Rxd1,Rxd1,Rd8,Rxd8,Bxd8,Kd3,Bb6,f3,Kg6,Bd2,Kh5,Be3,Bxe3,Kxe3,Kg5,c4,c5,g3,g6,h4+,Kh5,f4,g5,hxg5,exf4+,gxf4,fxg5,e5,Kg6,Ke4,h5,f5+,Kf7,e6+,Kf6', 'Kd5,g4,Kd6', 'https://lichess.org/training/jfSzi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JfT2T', 'Classical', 'fajicc', 1993, 'sniperheat', 1960, 'd4,d5,c4,Nf6,Nc3,c6,Bg5,Ne4,Nxe4,dxe4,e3,h5,h3', 'Qa5+,Qd2,Qxg5', 'https://lichess.org/training/JfT2T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JFU2i', 'Rapid', 'badavesharvin29', 2013, 'yugbardiya', 1737, 'd4,Nf6,Bf4,d5,e3,Bf5,Nf3,Nc6,Bd3,Ne4,c3,e6,Qc2,Bd6,Bxd6,Qxd6,O-O,O-O,Nbd2,Nxd2,Qxd2,Bxd3,Qxd3,f5,Rfe1,f4,e4,Rae8,e5,Qd8,Rad1,Ne7,Ng5,Ng6,h4,Rf5', 'Nxe6,Rxe6,Qxf5', 'https://lichess.org/training/JFU2i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JFVbc', 'Rapid', 'soyy', 1890, 'b3wii', 1818, 'd4,e6,e3,d5,Bd3,Nf6,Nd2,a6,f4,b5,Ngf3,h6,Ne5,Bb7,O-O,Ne4,Qf3,Bd6,Nxe4,dxe4,Bxe4,c6,f5,Qf6,Nxc6,O-O,Nxb8,Bxe4,Qxe4,Raxb8,fxe6', 'Bxh2+,Kxh2,Qxf1', 'https://lichess.org/training/JFVbc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JfvLV', 'Rapid', 'straszliwiec', 1754, 'Alekhinek', 1707, 'b4,d5,Bb2,d4,Nf3,Bg4,Nxd4,Nf6,h3,Bh5,g4,Bg6,Bg2,e5,Nb3,Bxb4,Bxb7,Na6,Bxa8,Qxa8,O-O,Nc5,Bxe5,Qe4,Bxf6,gxf6,d3,Qf4,e3,Qh6,a3,Nxb3,cxb3,Bd6,Nc3,Qxh3,f4,Qxe3+,Rf2,Qg3+,Rg2,Qe3+,Kh1,Kd7,Qe2,Qxf4,Rf1,Qe5,Ne4,h5,Nxf6+,Kc8,Qxe5,Bxe5,Re2,hxg4+,Kg2', 'Rh2+,Kg1,Rxe2', 'https://lichess.org/training/JfvLV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jFYcw', 'Rapid', 'sanchez14', 1610, 'naan_karthi', 1603, 'd4,e5,dxe5,f6,exf6,Nxf6,Nc3,d6,e4,Be7,Bf4,O-O,e5,Ng4,exd6,Bxd6,Bxd6,Re8+,Be2,cxd6,Nf3,Nc6,O-O,Nge5,Re1,Bg4,Nxe5,Bxe2,Rxe2,Nxe5,Qd5+,Kh8,Qxb7,Qg5,Rae1,Rab8,Qd5,Rbd8,Re3,Rd7,Qb5,Rdd8,Ne4', 'Nf3+,Kh1,Qxb5', 'https://lichess.org/training/jFYcw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JFykR', 'Classical', 'AdvocatusDei', 1898, 'hiradsaberi', 1896, 'd4,d5,Nf3,Bf5,c4,c6,Nc3,Nf6,e3,h6,Bd3,Bxd3,Qxd3,e6,Ne5,Bb4,Bd2,Bxc3,Bxc3,Ne4,Bb4,Nd7,Nxd7,Qxd7,O-O,b6,f3,Nf6,e4,a5,Ba3,dxc4,Qxc4,b5,Qc5,b4,Bxb4,axb4,Qxb4,Rd8,Rfd1,Nh5,g3,Qc7,Kg2,Rb8,Qc3,Qb6,b3,Ke7,a4,Rhd8,d5,cxd5,exd5,Qxb3,Qc5+,Ke8,d6,Qb2+,Kh3,Qe2,d7+,Rxd7,Rxd7,Kxd7', 'Qa7+,Kd6,Qxb8+', 'https://lichess.org/training/JFykR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JfzJl', 'Rapid', 'Umutunal', 1778, 'lemilio775', 1909, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,dxc4,Bg5,c5,e4,cxd4,Nxd4,Be7,e5,Nd5,h4,Nd7,Nxd5,exd5,f4,O-O,b3,cxb3,Qxb3,Nb6,a4,a5', 'Bxe7,Qxe7,Qxb6', 'https://lichess.org/training/JfzJl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jFzwW', 'Blitz', 'TainoGood', 1709, 'miguelche', 1698, 'e4,d6,d4,a6,d5,Nf6,Nf3,Nxe4,Qd4,Nf6,Bd2,Nbd7,Bc4,h6,a4,Nc5,b4,Ncd7,b5,a5,Nc3,Nc5,O-O,b6,Be1,Bg4,Be2,g5,Bd2,Bg7,Rfe1,O-O,Bd3,Bxf3,gxf3,Nfe4,Qe3,Nxc3,Bxc3,Bxc3,h4,Bxa1,hxg5,Bc3,gxh6,Bxe1', 'Qg5+,Kh8,Qg7#', 'https://lichess.org/training/jFzwW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jg2XF', 'Rapid', 'togarasan', 2061, 'Bob1949', 2023, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Qxd4,e6,Nf3,b6,g3,Bb7,Bg2,Nc6,Qe4,d6,O-O,Be7,a3,O-O,c4,Nc7,exd6,Qxd6,Nc3,Na5,Qe2,Nb3,Rb1,Nxc1,Rbxc1,Rad8,Rfd1,Qc5,Ne4,Qh5,b4,Rxd1+,Rxd1,Rd8,Rxd8+,Bxd8,Nd6,Bxf3,Bxf3,Qg5,Qc2,Qe5,c5,bxc5,Qxc5,Qxc5,bxc5,Kf8,a4,a6,Bc6,Ke7,f4,a5,Kf2,Na6,Nb7,Bc7,Bb5,Nb4,Ke3,f6,Kd4,e5+,fxe5,fxe5+,Ke4,Nc2,c6,Nd4,Nc5,Nxb5,axb5,Kd6,Na6,Bb6,h4,a4,Nb4,a3,Na2,Kc5,Kxe5,Kxb5,Kd6,Kc4,c7', 'Bxc7+,Kxc7,Kb3', 'https://lichess.org/training/jg2XF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JG2zg', 'Rapid', 'alash3ry', 1960, 'G_Sandro', 1989, 'e4,e5,Bc4,d6,d3,f5,Bxg8,Rxg8,Qh5+,g6,Qxh7,Be6,exf5,Rg7,Qh3,Bxf5,Qe3,Nc6,c3,Qd7,f3,O-O-O,Nd2,d5,g4,d4,cxd4,exd4,Qe2,Re8,Ne4,Bb4+,Bd2,Bxe4,fxe4,Bxd2+,Kxd2,Ne5,h3,Qb5,b3,Re6,Nf3,Qb4+,Kd1,b6,Nxe5,Rxe5,Rc1,Rc5,Rxc5,Qxc5,Rf1,Rd7,Qc2,Qd6,Qc4,Kb7,a4,Qg3,a5,Qxh3,a6+,Kc8', 'Rf8+,Rd8,Qe6+,Kb8,Rxd8#', 'https://lichess.org/training/JG2zg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jg3Xo', 'Blitz', 'Dolana', 2259, 'ForeverNeilYoung', 2196, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,cxd6,Nc3,g6,a4,a5,c5,dxc5,Bb5+,Bd7,dxc5,Bxb5,Qxd8+,Kxd8,Nxb5,N6d7,Be3,Na6,O-O-O,Rc8,Na7,Rc7,Nb5,Rc8,Na7,Rc7,c6,bxc6,Bb6,e6,Nxc6+,Kc8,Bxc7,Kxc7,Nxa5,Bg7,Nf3,Rb8,Nc4,Nb6,Nfd2,Nb4,a5,Na4,Ne4,Nd5,a6,Ra8,b3,Nac3,Nxc3,Nxc3,Rd3,Rxa6,Kc2,Nd5,Rf3,f5,Nb2,Ra2,Rb1,Nb4+,Kc1,Nd5,Na4,Re2,g3', 'Re1+,Kc2,Nb4+,Kd2,Rxb1', 'https://lichess.org/training/jg3Xo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jG986', 'Rapid', 'flipiflapi', 1793, 'Erlan_Muratbek', 1790, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Re1,Nf6,Nxe5,Nxe5,Rxe5+,Be7,Qe2,O-O,Rxe7,d5,Bb3,Re8,Rxe8+,Nxe8,Nc3,c6,d4,Nf6,Bg5,h6,Bxf6,Qxf6,Qe8+,Kh7,Re1,Qg6,Ne4', 'Bh3,Ng3,Rxe8', 'https://lichess.org/training/jG986');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jgAHh', 'Rapid', 'ranjeetkumar521', 1641, 'AlirTheNeon', 1791, 'e4,c5,d3,g6,Nc3,Bg7,Bg5,h6,Bh4,g5,Bg3,Nc6,Nf3,Qa5,Qd2,Nd4,Be5', 'Nxf3+,gxf3,Bxe5', 'https://lichess.org/training/jgAHh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jgbwa', 'Rapid', 'jomisa', 1730, 'Digimansion', 1716, 'Nf3,d5,d4,Nc6,e3,Nf6,Nc3,Bf5,Bd3,Bg4,h3,Bh5,O-O,Qd6,Be2,Bg6,Nb5,Qd7,c4,dxc4,Bxc4,a6,Nc3,b5,Bd3,e6,Qc2,Bd6,Bxg6,hxg6,Bd2,Nb4,Qb1,c5,a3,Nbd5,Nxd5,exd5,Bc3,c4,Re1,O-O-O,e4,Nxe4,Ne5,Bxe5,dxe5,Qf5,f3,Nc5,Qxf5+,gxf5,Bb4,Nd3,Re2,g6,Bc3,Rde8,e6,Rxe6', 'Rxe6,fxe6,Bxh8', 'https://lichess.org/training/Jgbwa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jGcKG', 'Classical', 'Aquila_rapax', 2117, 'TalentedToni', 2003, 'Nf3,Nf6,c4,c5,Nc3,e6,g3,d5,cxd5,exd5,d4,cxd4,Nxd4,Nc6,Bg2,Be6,O-O,Bc5,Nxc6,bxc6,Qc2,Be7,Na4,Qd7,Bg5,O-O,Rfd1,h6,Bxf6,Bxf6,Nc5,Qe7,Rac1,Rab8,b3,Bg4,Re1,Bd4,e4,Qf6,h3,Bh5,Nd7,Qg5,Nxf8,Rxf8,Kh2,dxe4,Bxe4,c5,b4,cxb4,f4,Qf6,Bh7+,Kh8,Bd3,Bc3,Re4,Bf3,Re3,Bc6,a3,a5,axb4,axb4,Rb1,Qd4,Re2,Rd8,Bf5,g6,Bxg6,fxg6,Qxg6,Qd6,Qh5,Kg7,Qg4+,Kh8,Qh4,Rg8,Rd1,Qg6,f5,Qxf5', 'Qxh6+,Qh7,Qxc6', 'https://lichess.org/training/jGcKG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JgcM0', 'Rapid', 'zkel29', 1777, 'Nightlite', 1748, 'Nf3,Nf6,c4,c6,d4,d5,cxd5,cxd5,Nc3,Bf5,Bg5,Nc6,e3,Ne4,Bb5,Nxg5,Nxg5,e6,Nf3,Bb4,Qb3,Bxc3+,Qxc3,Qb6,Ba4,O-O,O-O,Rac8,Qb3,Qxb3,Bxb3,Nb4,Ne5,Nd3,Nxd3,Bxd3,Rfd1,Bc2,Bxc2,Rxc2,b3,Rfc8,h3,g6,h4,Rb2,g3,Rcc2,Rf1,Rxa2,Rxa2,Rxa2,Rb1,a5,b4,b6,bxa5,bxa5,Rb8+,Kg7,Rb7,a4,Kg2,a3,Kf3,Ra1,Ra7,a2,g4,h5,g5,Kf8,Kf4,Ke8,Ke5,Rh1,Rxa2,Rxh4,Kf6,Rh2,Ra8+,Kd7,f4,Re2,Kxf7,Rxe3,Kxg6,h4,Ra7+,Kd6,Kf6,h3,Rh7,Rf3,Rh4,h2,g6', 'Rxf4+,Rxf4,h1=Q', 'https://lichess.org/training/JgcM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JgCzG', 'Classical', 'Pekarnya', 1728, 'istvan55', 1700, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be2,a6,O-O,Bd7,Be3,Nc6,f4,O-O,f5,Ne5,Qe1,c5,Nf3,Nxf3+,Bxf3,Bc6,Qg3,Nd7,Nd5,Bxd5,exd5,Bf6,Qxd6,Bxb2,Rab1,Bd4,Bxd4,cxd4,Rxb7,Nf6,Qc5,Qc8,Rc7,Qxf5,d6,Rad8,Qxd4,Qb5,Bc6,Qb8,c4', 'Qxc7,dxc7,Rxd4', 'https://lichess.org/training/JgCzG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jgE8U', 'Rapid', 'Nizars1', 1849, 'TS1990', 1897, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Nc3,d6,Bb5,Bd7,Bf4,Nf6,O-O,O-O,Nd5,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/jgE8U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jGEe9', 'Blitz', 'Mr-Mauro', 2157, 'luxtorpeda76', 2219, 'd4,g6,Nc3,Bg7,Nf3,d6,Bg5,a6,e3,b5,Bd3,Bb7,Qe2,Nd7,Be4,Bxe4,Nxe4,h6,Bh4,Ngf6,Nxf6+,Nxf6,Bxf6,Bxf6,O-O,O-O,c3,Rc8,e4,c5,d5,c4,Rad1,Qc7,Nd4,Rfe8,f4,e5,fxe5,Bxe5,Rf3,Rf8,Rdf1,Rb8,Qe3,Bg7,Qf2,Rb7,Ne6,fxe6', 'Rxf8+,Bxf8,Qxf8+,Kh7,dxe6', 'https://lichess.org/training/jGEe9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JgfL3', 'Blitz', 'poildur', 1809, 'seocult', 1876, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,Bb5+,Nc6,O-O,Nf6,Re1+,Be7,Bg5,O-O,Nc3,Bg4,dxc5,Bxc5,Bxf6,Qxf6,Qxd5,Bxf3,Qxf3,Qxf3,gxf3,Nd4,Red1,Nxf3+,Kg2,Nd4,Na4,Nxb5,Nxc5,b6,a4,Rfc8,Ne4,Nc7,Rd7,Ne6,Nd6,Rxc2,Nxf7,Nc5,Rc7,Rxb2,Re1,a5,Ree7,Rf8,Nh6+,Kh8,Rxg7,Rfxf2+,Kg3,Rg2+,Kf3,Rxg7', 'Rc8+,Rg8,Rxg8#', 'https://lichess.org/training/JgfL3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JGfPQ', 'Blitz', 'divergent_twin', 2509, 'FM coventry', 2365, 'e4,g6,d4,Bg7,c4,d6,Nc3,e5,Nf3,Nc6,d5,Nce7,h3,f5,Bd3,Nf6,O-O,O-O,b4,a5,Ba3,axb4,Bxb4,Nh5,c5,Nf4,Bc4,fxe4,Ng5,Nf5,Ngxe4,Nh4,cxd6,Nhxg2,dxc7,Qh4,d6+,Kh8,d7,Bxd7,Qxd7,Nxh3+,Kxg2,Nf4+,Kf3,Ne6+,Ke2,Nd4+,Kd2,Bh6+,Kd3', 'Rf3#', 'https://lichess.org/training/JGfPQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jGfud', 'Rapid', 'Sso-3-gilan-abedpur', 1801, 'AHOCAN3', 1781, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,Nc3,Be7,Nxe4,O-O,Nxf6+,Bxf6,Qd3,Re8+,Be2,Qe7,Qe3,b6,O-O,Bb7,Qxe7,Rxe7,Bc4,Nd7,d4,c5,dxc5,Nxc5,c3,Rd8,Bg5,Bxg5,Nxg5,Bxd5,Rad1,Re5,Nf3,Rf5,Rfe1,Ne6,Bxd5,Rdxd5,Rxd5,Rxd5,g3,Rd3,Nd4,Rd2,Re2,Rxe2,Nxe2,f6,Nd4,Kf7,b4', 'Nxd4,cxd4,Ke6,Kf1,Kd5', 'https://lichess.org/training/jGfud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JgGqq', 'Rapid', 'linetto', 1670, 'belanchuk', 1704, 'd4,d5,e3,Nf6,c4,Bg4,c5,e6,Be2,Bf5,Nf3,Ne4,Nbd2,Qf6,Nxe4,Bxe4,O-O,Be7,b4,O-O,Ne5,Qg5,Bf3,Bf5,e4,dxe4,Bxg5,Bxg5,Bxe4,Bxe4,f3,Be3+,Kh1,Bd5,Qe2,Bxd4,Rad1,Bc3,Nd3,Nc6,Nf4,Nxb4,Nxd5,Nxd5,Qd3,Bb4,a3,Bxc5,Qc4,Bb6,Qh4,Ne3,Rfe1,Nxd1,Rxd1,a5,g4,a4,g5,g6,Qc4,Ra5,h4,Rfa8,Qd3,Rd5,Qe2,Rxd1+,Qxd1,Bc5,Qd3,Bd6,h5,gxh5,Kg2,Kg7,Kh3,Ra5', 'Qc3+,Re5,f4', 'https://lichess.org/training/JgGqq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JghaK', 'Rapid', 'Bloodhammer', 1680, 'Ageold', 1662, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,e6,d4,Nf6,Bg5,Be7,Ng3,h6,Be3,Nd5,Bd2,Bb4,c3,Bd6,c4,Nf4,Ne5,Bxe5,dxe5,Nd3+,Bxd3,Qxd3,b3,O-O,Ne2,Rd8,Nf4,Qe4+,Qe2,Qc2,Nh5,Na6,Nxg7,Kxg7', 'Bxh6+,Kxh6,Qxc2', 'https://lichess.org/training/JghaK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jgiD2', 'Blitz', 'FM Cafeschopenhauer', 2343, 'mahor1367', 1654, 'd4,d5,Nf3,Nf6,Bf4,Bf5,Nbd2,e6,e3,Bb4,c3,Bd6,Ne5,Nc6,Be2,Nxe5', 'dxe5,Bxe5,Bxe5', 'https://lichess.org/training/jgiD2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jGifV', 'Rapid', 'WASP-12b', 1790, 'SemyONN', 2026, 'Nf3,Nf6,g3,g6,Bg2,Bg7,d3,O-O,e4,d6,Be3,c5,e5,Nd5,c3,Nxe3,fxe3,dxe5,O-O,Nc6,Na3,Qa5,Nc4,Qc7,a4,h6,Nfd2,Rd8,Ne4,b6,Qc2,f5,Nf2,Bb7,Na3,Na5,Nb5,Qd7,b4,Bxg2,Kxg2,cxb4,cxb4,Rac8', 'Qa2+,Kh7,bxa5', 'https://lichess.org/training/jGifV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JGmn3', 'Rapid', 'dedodu', 1722, 'Denisyermakoff', 1777, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,Bg4,O-O,Nxd4,Re1,Nxf3+,Nxf3,Qf6,Qb3,Bxf3,Qxf3,Qxf3,gxf3,f6,Rac1,Ne7,b4,Nc6,b5,Ne5,Be2,O-O-O,a4,Kb8,a5,b6,axb6,axb6,Ra1,Kb7,f4,Nd7,Bf3,Nc5,e5+,d5,e6,Rhe8,e7,Rd7,f5,c6,bxc6+,Kxc6,Re6+,Nxe6,fxe6,Rdxe7,Rc1+,Kd6,Rb1,Rxe6,Rxb6+,Ke5,Rb7,R8e7,Rb5,Rd7,Bg4,f5,Bf3,Red6,Kg2,Kf4,Rb4+,d4,h4,h6,Be2,g5,h5,g4,Bd3,Kg5,Kg3,f4+,Kg2,Kxh5,f3,Rd5,Be4,Rc5,fxg4+,Kh4,Rb3,Rc3,Rb5,d3', 'Rh5+,Kxg4,Bf3#', 'https://lichess.org/training/JGmn3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JgMuS', 'Rapid', 'pinoybisaya', 1979, 'SantiagoLlag', 2060, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,O-O,Be7,Be3,Nbd7,f3,O-O,Nd5,Nxd5,exd5,Bf5,g4,Bg6,c4,Rc8,Rc1,f5,h3,Bg5,Qd2,Bxe3+,Qxe3,f4,Qf2,h5,Nd2,hxg4,hxg4,Kf7,Kg2,Qg5,Rh1,Rh8,Qa7,Nc5,b4,Nd3,Qxb7+,Kf6,Bxd3,Bxd3,Qxa6,Rhd8,c5', 'Bxa6,Ne4+,Kg6', 'https://lichess.org/training/JgMuS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JGosT', 'Rapid', 'FortuneWheel', 1773, 'Lipe_Konig', 1777, 'd4,e6,c4,d5,cxd5,exd5,Nc3,Nf6,Nf3,Bg4,Bf4,c6,e3,Bd6,Bg3,Bxg3,hxg3,Qb6,Qc2,Nbd7,Bd3,h6,a3,O-O,Ne2,c5,Nf4,cxd4,Nxd4,Rac8,Qd2,Nc5,f3,Nb3,Nxb3,Qxb3,fxg4,Nxg4,Rc1,g5,Rxc8,Rxc8,Ne2,Ne5,Nc1', 'Rxc1+,Qxc1,Nxd3+,Kd2,Nxc1', 'https://lichess.org/training/JGosT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jgOsX', 'Blitz', 'Gamer_Gambit', 2459, 'IM rehbwf', 2616, 'e4,c6,Nf3,d5,Nc3,Bg4,h3,Bxf3,Qxf3,e6,d4,Bb4,Bd2,dxe4,Qxe4,Nf6,Qd3,O-O,O-O-O,Nbd7,a3,Bxc3,Bxc3,b5,Qf3,a5,Bd2,Qb6,Bd3,Qxd4,Be3,Qd5', 'Bxh7+,Kxh7,Rxd5', 'https://lichess.org/training/jgOsX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JgPDu', 'Rapid', 'Hulkiorra', 1810, 'matabichos26', 1784, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,Nc3,a6,O-O,e6,Bg5,Be7,f4,Qb6,Na4,Qb4,c3,Qc4,e5,dxe5,fxe5,Nd5,Bxe7,Nxe7,Qh5,g6,Qg5,b5,Qf4,O-O,b3,Qd5,Nf3,bxa4,Qh6,Rfc8,Ng5,Nf8,Rxf7,Nf5', 'Rxf8+,Rxf8,Qxh7#', 'https://lichess.org/training/JgPDu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jgR0l', 'Classical', 'Mo_ghaly', 1651, 'elena_45', 1683, 'e4,d6,d4,Nf6,Nc3,Nc6,d5,Ne5,Nf3,Nfd7,Bb5,c6,dxc6,bxc6,Nxe5,cxb5,Nc6,Qb6,Qd5,Bb7,Be3,Nc5,b4,Qxc6,Qxc6+,Bxc6,bxc5,dxc5,Bxc5,b4,Bxb4,a5,Bc5,g6,Bd4,f6,O-O,Bg7,Rad1,e5,Bc5,Kf7,a4,Rhc8,Nd5,Bxa4,Nb6,Rxc5,Nxa8,Rxc2,Nb6,Bc6,Ra1,a4,Nxa4,Bxe4,h3,g5,Rfd1,Kg6,Nb6,Bf8,Ra6', 'Bc5,Nd7,Bxf2+', 'https://lichess.org/training/jgR0l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jGr0n', 'Blitz', 'FA_CHESS_79', 1614, 'profpoke', 1756, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Bd3,c6,O-O,O-O,Nbd2,Nbd7,c3,Qc7,Qc2,Bd6,Rfe1,Bf4,Bxf4,Qxf4,Ne5,h6,Ndf3,Nxe5,Nxe5,Qg5,Re3,Ng4', 'Bh7+,Kh8,Nxf7+,Rxf7,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/jGr0n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JgRdx', 'Classical', 'Theaccount', 1759, 'KovVa', 1791, 'd4,Nf6,Bf4,g6,h3,Bg7,e3,Nh5,Bh2,O-O,Nf3,c5,c3,cxd4,exd4,Nc6,Be2,Re8,Nbd2,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Rxe5,O-O,Nf4,Bf3,d5,Re1,Nd3,Rxe5,Nxe5,Be2,Qg5,Nf3,Nxf3+,Bxf3,Be6,Qd4,b6,c4,Rd8,Kh2,dxc4,Qe4,Bd5,Qg4,Qxg4,Bxg4,Rd6', 'Rd1,Rf6,Rxd5', 'https://lichess.org/training/JgRdx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JgTGb', 'Rapid', 'dastro97', 1834, 'Lavoisier_Oliveira', 1855, 'd4,d5,Nf3,e6,Bf4,c5,e3,cxd4,exd4,Qb6,Qc1,Nc6,c3,Nf6,Bd3,Nd7,O-O,Be7,Qc2,f6,Nbd2,e5,dxe5,fxe5,Be3,Qc7,Bxh7,e4,Ng5,Bxg5,Bg6+,Kf8,Bxg5,Qe5,f4,exf3,Rxf3+,Nf6,Bxf6,gxf6,Raf1,Qxh2+,Kf2,Qh4+,Ke3,Qg5+,Rf4,Qg3+,R1f3,Qe1+,Kd3,Ne5+,Kd4,Nc6+,Kc5,Qe7+,Kb5,a6+,Ka4', 'b5+,Kb3,Na5#', 'https://lichess.org/training/JgTGb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JgTSA', 'Blitz', 'stevemm', 1857, 'BorisMD', 1834, 'e4,c6,d4,d6,c4,Qa5+,Nc3,g5,Bxg5,Qxg5,Nf3,Qg4,h3,Qg7,Qb3,h5,O-O-O,Qh6+,Kb1,Bg7,Bd3,Nf6,e5,dxe5,dxe5,Nfd7,Rhe1,Nc5,Qc2,Nxd3,Qxd3,Qh7,Ne4,O-O,Ka1,Bf5,Nfg5,Bxe4,Nxe4,Bxe5,f4,Bh8,g4,Qg7,Re2,Na6,a3,Rad8,Qc2,Rxd1+,Qxd1,hxg4,hxg4,Qxg4,Qf1,Bg7,Ng5,Qf5,Rh2,Rd8,Qh1,Nc5,Ka2,Qxf4', 'Rh8+,Bxh8,Qh7+,Kf8,Qxh8#', 'https://lichess.org/training/JgTSA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JgvCa', 'Blitz', 'laci2765', 2252, 'GM alber03', 2315, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bd3,Bd6,O-O,Nge7,h3,Bf5,c3,Qd7,Re1,O-O-O,Bg5,f6,Bh4,g5,Bg3,Bxg3,fxg3,h5,b4,Bxd3,Qxd3,Nf5,b5,Nce7,Nfd2,Qd6,Nf1,h4,g4,Ng3,Nxg3,hxg3,Nd2,Rhg8,Nf1,Ng6,Qxg3,Nf4,Qf3,Rge8,a4,Kb8,Ne3,Re4,Nf5,Qe6,Rxe4,dxe4,Qe3,Nd5,Qe1,Nb6,a5,Nc4,a6,b6,Qe2,Nd6,Nxd6,cxd6,Re1,d5,c4,dxc4,Qxe4,Qxe4,Rxe4,c3,Re3', 'c2,Rc3,Rc8,Rxc2,Rxc2', 'https://lichess.org/training/JgvCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jGWw9', 'Classical', 'd1nko', 1658, 'Hietala', 1784, 'e4,e6,f3,c5,Nc3,Nc6,Bb5,Nge7,d3,a6,Ba4,b5,Bb3,Na5,a3,Nxb3,cxb3,Nc6,Be3,d5,Bf2,d4,Nce2,Bd6,Qc2,O-O,b4,Qg5,g3,Qe7,Rc1,Bb7,bxc5,Bc7,Nxd4,Ba5+,b4,Bxb4+,axb4,Nxb4,Qb3,Nc6,Nxc6,Bxc6,Ne2,a5,O-O,a4,Qa3,Qb7,Rb1,Rfb8,Be1,Rd8,d4,Qa6,Bb4,f5,exf5,exf5,Rbd1,Qb7,Kg2,Bd5,Nf4,Bc4,Rf2,g5,Ne2,g4,Kg1,gxf3,Qxf3', 'Qxf3,Rxf3,Bxe2,Rxf5,Bxd1', 'https://lichess.org/training/jGWw9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jGxgP', 'Rapid', 'roidumat', 1980, 'faham0151', 1905, 'd4,d5,c4,dxc4,Nc3,Bf5,e4,Bg6,Bxc4,e6,Nf3,Bb4,Qc2,Nd7,O-O,Nb6,Bd3,Nf6,e5,Bxd3,Qxd3,Nfd5,a3,Bxc3,bxc3,O-O,c4,Ne7,Bb2,Ng6,Nd2,c5,f4,cxd4,Ne4,Qc7,Nd6,Rfd8,Bxd4,Nc8,c5,b6,Qe4,Rb8,Rac1,bxc5,Bxc5,Nxd6,Bxd6,Qb6+,Kh1,Rbc8,f5,exf5,Qxf5,Rxc1,Qxf7+,Kh8,Rxc1,Qe3,Rf1,Rg8,e6,Qd4,e7,Qe4,Qxg8+,Kxg8', 'Rf8+,Nxf8,exf8=Q#', 'https://lichess.org/training/jGxgP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jgY6h', 'Rapid', 'vigorek', 1734, 'Almon-haminna', 1723, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,O-O,d6,h3,Nf6,Nc3,Nh7,a3,a6,b4,Ba7,Bxf7+,Kxf7,Nd5,Rf8,Nh2,Kg8,Qh5,Be6,Bxh6,gxh6,Qg6+,Kh8,Qxe6,Nd4,Qxh6,Nxc2,Rac1,Nd4', 'Rxc7,Qxc7,Nxc7', 'https://lichess.org/training/jgY6h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jgyEL', 'Rapid', 'tucanoe1', 1622, 'Mow0', 1662, 'e4,c5,Bc4,Nc6,Qh5,e6,Nc3,Nf6,Qd1,Be7,Nf3,d6,d3,a6,Bg5,b5,Bb3,Na5,Bxf6,Bxf6,Ne2,Nxb3,axb3,Bxb2,Rb1,Bf6,c3,Bb7,d4,O-O,Qd3,cxd4,cxd4,Rc8,O-O,Qd7,Qe3,Rc6,d5,exd5,exd5,Rc7,Rfd1,Re8,Qd3,Qe7,Ng3,Rc3,Qd2,Rec8,Nf5,Qd7,N5d4,Bxd5,Re1,R3c7,Ng5,Qd8,Nh3,Bxd4,Qxd4,Be6,Nf4,Bf5,Nh5,f6', 'Qd5+,Kh8,Qxf5,g6,Qxf6+,Qxf6,Nxf6', 'https://lichess.org/training/jgyEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jgZAl', 'Rapid', 'Volkanov_Sergey', 2072, 'Agglomerate-1984', 1944, 'e4,c5,Nc3,Nc6,g3,e5,Bg2,Nf6,d3,d6,Nd5,Nxd5,exd5,Nd4,c3,Nf5,Ne2,Be7,O-O,O-O,f4,Bf6,Be4,Bd7,fxe5,Nxg3,Nxg3,Bxe5,Bf4,f5,Bxe5,fxe4,Bxd6,Rxf1+,Qxf1,Qb6,Nxe4,Qxb2,Rb1,Qxa2,Rxb7,Qxd5,Rxd7,Qe6,Re7,Qd5,c4,Qd4+,Kg2,Rf8,Rxg7+', 'Qxg7+,Bg3,Rxf1', 'https://lichess.org/training/jgZAl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jh0ml', 'Classical', 'vishesh12345', 1673, 'ogitogi', 1611, 'd4,e5,e3,exd4,Qxd4,Nc6,Qd1,d5,Nf3,Nf6,Nc3,Bb4,Bd2,O-O,h3,Ne4,Bd3,Nxc3,Bxc3,Bxc3+,bxc3,Qf6,c4,dxc4,Bxc4,h5,O-O,Ne5,Nxe5,Qxe5,Bd3,g6,Rb1,Rd8,Qf3,g5,Qxh5,Rd5,Qh7+,Kf8,Qh6+,Ke7,e4,Ra5,Ra1,Be6,a3', 'Rh8,Qxh8,Qxh8', 'https://lichess.org/training/jh0ml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jh22z', 'Rapid', 'pavel1138', 1707, 'akhilN3', 1736, 'e4,c5,Nc3,e6,f4,Nc6,Bb5,a6,Bxc6,bxc6,Nf3,d5,e5,Ne7,d3,Ng6,O-O,Be7,Ne2,Qb6,Kh1,O-O,Qe1,Qb5,Qg3,c4,dxc4,Qxc4,h4,Qxe2,Rg1,Qxc2,h5,Nxe5,fxe5,Kh8,Rf1,f6,exf6,Bxf6,Rf2,Qd1+,Kh2,Qa4,Bg5,Bxg5', 'Nxg5,Rxf2,Qxf2', 'https://lichess.org/training/jh22z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jh2cr', 'Rapid', 'pobler', 1828, 'kalon', 1804, 'e4,c5,Nf3,Nc6,d4,e6,Be3,cxd4,Nxd4,Nxd4,Bxd4,Nf6,Nd2,Bb4,c3,Ba5,Bd3,d5,e5,Nd7,O-O,O-O,Qh5,h6,f4,f5,exf6,Nxf6,Qe5,Bc7,Qe2,Bb6,Nf3,Nh7,g3,Bxd4+,Nxd4,Qd7,Rae1,Re8,Qe5,Nf6,h3,a6,Kh2,Qf7,f5,exf5,Qf4,Rxe1,Rxe1,g5,Qe5,f4,gxf4,g4,h4,Bd7,Qc7,g3+,Kg2', 'Bh3+,Kxh3,Qxc7', 'https://lichess.org/training/jh2cr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jh2Kg', 'Classical', 'rapx2', 1896, 'Gatkuoth', 1785, 'd4,Nf6,c4,d5,Nc3,Nc6,Nf3,e6,Bg5,dxc4,e3,Be7,Bxc4,O-O,O-O,a6,Rc1,b5,Bd3,Bb7,a3,Qd6,b4,Ng4,Bxe7,Nxe7,h3', 'Bxf3,hxg4,Bxd1', 'https://lichess.org/training/Jh2Kg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JH3K9', 'Rapid', 'darchik_darchik', 1742, 'nuneLL', 1785, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Bb4+,Nc3,Nf6,e5,Ne4,Ne2,Qh4,O-O,O-O,a3,Nxc3,Nxc3,Ba5,b4,Bb6,Be3,Nc6,f4,Rd8,Ne2,f6,Qb3,Nxd4,Nxd4,fxe5,Bxe6+,Bxe6,Qxe6+,Kh8,fxe5,Bxd4,Bxd4,Qxd4+,Kh1,Re8,Qf7,Qxe5,h3,Qe7,Qd5,c6,Qc4,Qe4', 'Rf8+,Rxf8,Qxe4', 'https://lichess.org/training/JH3K9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jh3mr', 'Rapid', 'CM Paranoyak', 2321, 'ILKA9', 2052, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,g6,Ne5,e6,d4,Bg7,Be3,O-O,Qe2,a6,a4,Nbd7,O-O-O,Nb6,Bd3,Nfd5,Bd2,Nxc3,Bxc3,Nd5,Bd2,Qe8,b3,Qe7,Kb2,b5,axb5,axb5,Ra1,Rxa1,Rxa1,b4,Ra8,c5,f4,cxd4,Qe4,Qc5,h4,Nc3,Qc6,Qxc6,Nxc6,Bb7,Rxf8+,Kxf8,Nxb4,Bxg2,Na6,Be4,b4,Bxd3,cxd3,Ke7,Nc5,Nb5,Kb3,Kd6,Ka4,Kc6,Nb3,Bf6,Na5+,Kb6,Nc4+,Kc6,Ka5,Bd8+,Ka6,Nc7+,Ka5,Nd5+,Ka6,Nb6,Na5+,Kd5,Nb7,Bc7,b5,Na4,Ba5,Bxf4,Bb4,Bc7,Na5,Nb6', 'Kb7,Bg3,Kxb6', 'https://lichess.org/training/jh3mr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jH3wK', 'Classical', 'checkchess1', 1677, 'scheming', 1658, 'e4,b6,d4,Bb7,d5,d6,Bg5,f6,Bh4,Nd7,Nh3,Ne5,Nf4,g5,Ne6,Qd7,Qh5+,Nf7,Be2,c6,Bg4,Nh6,Ng7+,Bxg7,Bxd7+,Kxd7,Bg3,cxd5,exd5,Bxd5,O-O,Be6,h4', 'Bg4,Qxf7,Nxf7', 'https://lichess.org/training/jH3wK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jh5JN', 'Rapid', 'nininj', 2019, 'Alireza3959', 1988, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bg4,d5,a6,dxc6,axb5,cxb7,Rb8,Qd5,Ne7,Qxb5+,Qd7,Qxd7+,Bxd7,Nc3,Rxb7,Be3,Rxb2,Kd2,Nc6,Rhb1,Rxb1,Rxb1,Be7,Rb7,Bd8,Nd5,O-O,Nxc7,Na5,Ra7,Nc4+,Kd3,Nxe3,Kxe3,Bc6,Ra6,Bb7,Rb6,Bxe4,Kxe4,Bxc7,Rb7,f5+,Kd5,Bb8,a4,Rc8,c4,Bc7,Ng5,Ba5,Rb5,Be1,f3,Bf2,a5,Ra8,Ne6,g6,Nc7,Ra7,Kxd6,e4,fxe4,fxe4,Re5,e3,Nd5,Bg1,Rxe3,Bxh2+,Kc6,Rxa5,Kb6', 'Rxd5,cxd5,Bg1,Kc6,Bxe3', 'https://lichess.org/training/Jh5JN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jH5mI', 'Blitz', 'shankhadeepchess', 2111, 'vetal7', 1669, 'e4,e5,Nf3,Nc6,Bc4,Nd4,d3,Nxf3+,Qxf3,Qf6,Nc3,Be7,Nd5,Qd6,Be3,c6,Nxe7,Qxe7,b4,Nf6,Bc5,d6,Be3,O-O,O-O,d5,Bb3,d4,Bd2,h6,Qg3,Kh8,f4,exf4,Qxf4,Be6,Rae1,Bxb3,axb3,Nh5,Qf5,Nf6,e5,Nd7,Re4,Rae8,e6,fxe6,Qg6,Rf6,Rxf6,Nxf6,Rh4,e5,Bxh6,gxh6', 'Rxh6+,Nh7,Rxh7+,Qxh7,Qxe8+', 'https://lichess.org/training/jH5mI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jh7Ny', 'Rapid', 'ReyMarron1', 1626, 'sesostar', 1661, 'd4,b6,Nf3,Bb7,e4,Bxe4,Nc3,Bb7,Bc4,e6,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/Jh7Ny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JH8Ek', 'Rapid', 'prafultewari', 1806, 'aykutcandan73', 1801, 'e4,e5,Nf3,Nf6,d3,Nc6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Be2,Be7,O-O,O-O,c4,Qd6,a3,Be6,b4,Rad8,Bb2,Nd4,Bxd4,exd4,c5,Qf4,g3,Qf6,Nd2,Bh3,Re1,Qg6,Ne4,f5,Nd2,f4,Bf3,fxg3,fxg3,Qxd3,Bg2,Bxg2,Kxg2,Bg5,Ne4,Qxd1,Raxd1,Be3,Rf1,Rfe8,Nd2,Bh6,Nf3,Re2+,Rf2,Rde8,Rxd4', 'Rxf2+,Kxf2,Be3+,Kf1,Bxd4', 'https://lichess.org/training/JH8Ek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jhbpg', 'Bullet', 'paulanair', 1627, 'JersonDgreat', 1625, 'd4,g6,Nf3,Bg7,Bf4,d6,e4,Nd7,Bc4,Ngf6,Bxf7+,Kxf7,Ng5+,Kg8,e5,dxe5,dxe5,Nh5', 'Qd5+,e6,Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/jhbpg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JHCsD', 'Rapid', 'Iamthegrandmaster', 1629, 'Yazeed20', 1621, 'e4,e5,Qh5,Qe7,d3,g6,Qf3,Nf6,Bg5,Bg7,Nc3,c6,Nge2,O-O,d4,d6,d5,Bg4,Qd3,c5,g3,h6,Bd2,Kh7,Bg2,a6,O-O,b5,a4,Bd7,axb5,Rc8,bxa6,c4,Qe3,Nxa6,Ra3,Nc5,Rxa8,Rxa8,b4,Na4,Nxa4,Rxa4,f4,exf4,Nxf4,Ng4,Qb6,Be5,Bh3,Qf6,Bxg4', 'Bd4+,Be3,Bxb6', 'https://lichess.org/training/JHCsD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JhdOE', 'Rapid', 'ALPHA_214', 1832, 'Dashboard1990', 1867, 'b4,e5,Bb2,Nc6,b5,Na5,Bxe5,Nc4,Nf3,Nxe5,Nxe5,d5,e3,Bd6,Nf3,Nf6,Be2,Ne4,O-O,O-O,d3,Qf6,Nbd2,Nc3,Qe1,Re8,a4,c5,bxc6,bxc6,Nb3,c5,d4,Ne4,dxc5,Nc3,cxd6,Nxe2+,Qxe2,Qxd6,Nbd4,Rb8,Rad1,Qb4,Qd3,Qxa4,Ng5,Bg4,Qxh7+,Kf8,Ra1,Qc4,Rxa7', 'Qxf1+,Kxf1,Rb1#', 'https://lichess.org/training/JhdOE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JhekO', 'Rapid', 'Guamrook', 2113, 'SINANJU-MNS017', 2188, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,c5,c3,Nc6,Nbd2,Be7,Bd3,O-O,Ne5,Re8,h4,Nxe5,dxe5,Nd7,Nf3,f5,Ng5,Bxg5,hxg5,g6,Rh6,Nf8,g4,Qb6,gxf5,exf5,Qe2,c4,Bb1,a5,a4,Be6,f3,Ra6,Bg3,Qb3,Rh2,Rb6,Ra3,Qxa3,bxa3,Rxb1+,Kf2,Rb3,Qd2,Rxa3,Rh1,Nd7,Rb1,Nc5,Rb6,Nxa4', 'Rxe6,Rxe6,Qxd5', 'https://lichess.org/training/JhekO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JHfyw', 'Rapid', 'ZenHorse', 1769, 'Pleicer', 1724, 'e4,c5,c4,Nc6,Nf3,Nd4,Nc3,e5,d3,d6,Be2,g6,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/JHfyw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JhH3E', 'Blitz', 'Rodel11', 1995, 'Bakira22', 1872, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Be2,O-O,O-O,Bf5,Bd3,Bg6,Bxg6,hxg6,c4,Qc7,h3,b6,b3,Nd7,Bb2,Rad8,Qd3,c5,d5,Rfe8,Rfe1,Ne5,Nxe5,Bxe5,Bxe5,Rxe5,Rxe5,Qxe5,Rd1,Qb2,Rd2,Qa1+,Kh2,Re8,Re2,Rxe2,Qxe2,Kf8,f4,a5', 'd6,Qd4,Qe7+,Kg8,d7', 'https://lichess.org/training/JhH3E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jHho7', 'Rapid', 'Potti09', 1782, 'monello55', 1619, 'd4,d5,Nf3,e6,Nc3,f5,Bf4,Bb4,a3,Bxc3+,bxc3,b6,g3,a5,Bg2,Nf6,O-O,O-O,Be5,Ne4,Qd3,Ba6,Qe3,Nd7,Nd2,Nxe5,dxe5,Nxd2,Qxd2,c5,Rab1,Rb8,Rfe1,Qc7,f4,Rfd8,e3,Bb7,Qf2,d4,Bxb7,dxe3,Qxe3,Rxb7,Red1,Rxd1+,Rxd1,Qe7,Rd6,Rd7,Rxb6,Rd1+,Kg2,Qc7,Rxe6,Kf7,Ra6,Qb7+,Kh3,Qxa6,Qxc5,Qh6+,Kg2,Rd2+,Kf1,Qh3+,Ke1,Qxh2,Qc4+,Kg6', 'Qe6+,Kh5,Qxf5+,g5,Qxg5#', 'https://lichess.org/training/jHho7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jhile', 'Blitz', 'ffprinting', 1707, 'ashiv', 1763, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,O-O,d3,Ng4,Nd5,d6,Qe2,Nd4,Nxd4,Bxd4,c3,Qh4,h3,Nxf2,Rxf2,Bxf2+,Qxf2,Qxf2+,Kxf2,c6,Ne7+,Kh8,Nxc8,Raxc8,Be3,c5,Bd5,Rc7,b3,b6,a4,a5,b4,cxb4,cxb4,Rc2+,Kf3,axb4,Bxb6,f5,Rb1,fxe4+,Kxe4', 'Re2+,Be3,Rf4#', 'https://lichess.org/training/Jhile');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jHJFC', 'Blitz', 'mathyaz', 1603, 'bwhitestone', 1568, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,f3,Nxe4,fxe4,Qh4+,g3,Qxe4+,Qe2,Qxh1,Nc3,Bb4,Bd2,O-O,O-O-O,Bxc3,Bxc3,f5,Bg2,Qxh2,Rh1,Qxg3,Bd5+,Kh8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/jHJFC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jHkFB', 'Rapid', 'kolaleks', 2047, 'LeafOnOurOnion', 1958, 'Nf3,Nf6,d3,d5,g3,Bg4,Nbd2,Nbd7,Bg2,e5,e4,c6,h3,Bh5,g4,Bg6,Nh4,Nxe4,Nxg6,Nxf2,Qf3,Nxh1,Nxh8,Qh4+,Kf1,Ng3+,Kg1,Bc5+,Kh2,e4,Qxg3', 'Bg1+,Kxg1,Qxg3', 'https://lichess.org/training/jHkFB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JhlII', 'Rapid', 'GHerbertG', 1758, 'jonos333', 1820, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,h3,O-O,Bg5,h6,Bh4,d6,O-O,Be6,Bxe6,fxe6,Nbd2,d5,c3,d4,cxd4,exd4,a3,a6,b4,Ba7,Nc4,e5,Nfxe5,Nxe5,Nxe5,Kh7,f4,c6,Rc1,Rc8,g4,Qd6,Nc4,Qe6,Kg2,b5,Ne5,Qa2+,Rf2,Qxa3,Nxc6,Rxc6,Rxc6,a5,Ra6,Bb8,bxa5,b4,Ra8,Nd7,Qd2,Nc5,Rf3,b3,Be7,Re8,Bxc5,Qxc5,Qb2,Qb4,g5,Rc8,gxh6', 'Rc2+,Rf2,Rxb2', 'https://lichess.org/training/JhlII');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JhNfq', 'Rapid', 'guayotevil_jpp', 1695, 'Brunozaurus', 1669, 'g3,e5,Bg2,d5,c3,c6,Qb3,Nf6,d3,Bg4,Qxb7,Nbd7,Qxc6,Be7,Bxd5,O-O,Bg2,Rc8,Qb7,Bc5,Bc6,Re8,Bxd7,Qxd7,Qxd7,Nxd7,h3,Bh5,g4,Bg6,Nf3,e4,dxe4,Rxe4,Nbd2,Re6,Nd4,Bxd4,cxd4,Rc2,e3,Nb6,a3,Nd5,Kd1,Rc7,Nb3,Nf6,Nc5,Rec6,b4,Be4,Rh2,Bf3+,Ke1,Ne4,Bb2,f6,Nxe4,Bxe4,f4,Kf7,Kd2', 'Rc2+,Ke1,Rxh2', 'https://lichess.org/training/JhNfq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jHnwB', 'Rapid', 'yanantoniou', 1745, 'solimanennara', 1784, 'e4,d6,Nf3,a6,Bc4,b5,Bb3,c5,d3,e6,c4,b4,a3,a5,Bd2,Nc6,Ba4,Qb6,e5,Bd7,Bxc6,Bxc6,Be3,bxa3,bxa3,Rb8,d4,Bxf3,dxc5,Bxd1,cxb6,Bh5,exd6,Bxd6,c5,Be5,Ra2,Ne7,O-O,O-O,Nd2,Be2,Re1,Bd3,Bg5,Bf6,Bxf6,gxf6,Re3,Rfd8,h3,Rbc8,b7,Rxc5,b8=Q,Rxb8,Rxd3,Nd5,Ne4,Rc4,Ng3,a4,Nh5,Rb3,Rdd2,Rcc3,Rab2,Kf8,Rxb3,Rxb3,Ra2,Nc3,Ra1,Ke7,Kf1,Nb5,Ke1,Rxa3,Rxa3,Nxa3,Kd1,f5,Nf4,e5,Nd5+,Kd6,Nb6,Kc5,Nxa4+,Kd4,Nb2,e4,Ke2,f6,Nd1,f4,f3,e3,Nb2,Nc4,Nd3,Nd6,Nxf4,Nf5,g4,Ng3+,Ke1,h6', 'Ne2+,Nxe2,Kxe2,Ke5,Kxe3', 'https://lichess.org/training/jHnwB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JHoiK', 'Classical', 'gquino', 1751, 'Springer115', 1692, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Be6,Bxf6,exf6,Nf3,dxc4,e3,b5,a4,Bb4,axb5,Bxc3+,bxc3,cxb5,Qb1,a6,g3,Bd5,Bg2,O-O,O-O,Qd6,Ra2,Qc6,Nh4,Bxg2,Nxg2,g5,h4,Re8,Qf5,Qe6,Qf3,Nd7,Rfa1,h6,Qh5,Kg7,Re1,a5,f4,Qf5,g4,Qg6,e4,Rxe4', 'Qxg6+,fxg6,Rxe4', 'https://lichess.org/training/JHoiK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JhQR5', 'Classical', 'lanekelly', 1757, 'd_mobasser', 1796, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Be3,Be7,Qd2,O-O,Bd3,Ng4,O-O,Nxe3,Qxe3,f5,exf5,Bxf5,Rab1,Bxd3,Qxd3,Bf6,Ne4,Be5,c3,Qh4,h3,Qf4,Ng3,h5,Qe3', 'Qxe3,fxe3,Bxg3', 'https://lichess.org/training/JhQR5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jhQYB', 'Rapid', 'INDIA_NO_1_Sahib', 2328, 'faustopuntier', 2226, 'c4,Nf6,Nc3,g6,d4,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,c5,Ne2,Nc6,Be3,O-O,O-O,Qc7,Rc1,Rd8,d5,Na5,Bd3,c4,Bb1,e6,Nf4,e5,Ne2,b6,f4,Nb7,Qe1,Nc5,Qf2,Bg4,fxe5,Bxe2,Qxe2,Bxe5,h3,b5,Qf2,Bg3,Qf6,Re8,Qf3,Be5,Kh1,Nb7,Bd4,Re7,Rc2,Rf8,Rcf2,Nd6,g4,a5,h4,b4,h5,g5,Qe3,h6,Bb6,Qd7,Qf3,Bxc3,Bc5,Rfe8,e5,Bxe5,Bxd6,Qxd6,Qe4,f5,Rxf5,Bg7,Qc2,Re2', 'Rf8+,Qxf8,Qh7#', 'https://lichess.org/training/jhQYB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JhsN1', 'Rapid', 'Xyna1972', 1704, 'Shmu9', 1659, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,dxc6,Qxd8+,Kxd8,Nc3,Be6,Bd3,Nf6,Bf4,Ng4,Bg3,Bd6,O-O,Bxg3,fxg3,Ne5,Na4,Ke7,Nc5,a5,b3,Rhd8,Nxb7,Rf8,Nc5,Rfd8,Rad1,Nd7,Na6,Ra7,a3,c5,b4,c4,Nxc7,Rxc7,Be2,axb4,axb4,Rb7,Rb1,Ra8,Bf3,Ra2,c3,Rc2,e5,Rb6,Be4,Rxc3,Bxh7,Nxe5,Rfe1,Rb5,Be4,Bd5,Re2,Bxe4,Rxe4,Ke6,Rbe1,f6,g4,Rxb4,g5,Rcb3,gxf6,gxf6,Kf2,Rb2+,Kg3,R4b3+,Kh4,Rxg2,h3,c3,Rc4,c2,Rc6+,Kf5,Rf1+,Ke4,Rcxf6,Rb1,R1f4+,Ke3,R4f5,c1=Q,Rxe5+,Kd2,Rd6+,Kc2,Rc5+,Kb3,Rb6+,Ka2', 'Ra5+,Qa3,Rxa3+,Kxa3,Rxb1', 'https://lichess.org/training/JhsN1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jHsO5', 'Rapid', 'aria1300', 1820, 'Slobodan7', 1879, 'e4,e6,Nf3,c6,Bc4,d5,exd5,cxd5,Be2,b6,Nc3,Nf6,d3,h6,a3,Be7,O-O,O-O,h3,Nbd7,Nh2,a6,f3,Qc7,Be3,b5,f4,Bc5,d4,Bb6,Ng4,Nxg4,Bxg4,Nf6,Bf3,Rb8,g4,Qd6,Rf2,Bb7,h4,Ne4,Rg2,Kh8,g5,hxg5,hxg5,Kg8,Rh2,Nxc3,bxc3,f5,Bh5,Rfd8,Bg6,Kf8,Rh7,Rd7,Qh5,Bc6,Rh8+,Ke7,Qh7,Rxh8,Qxg7+,Kd8,Qxh8+,Kc7,Be8,Rd8,Qg7+,Kb8,Bxc6,Qxc6,g6', 'Qxc3,Kf2,Qxa1', 'https://lichess.org/training/jHsO5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jhur5', 'Rapid', 'KrasterGuitars', 1621, 'aldair_concha', 1611, 'e4,e5,Bc4,h6,Nf3,Nc6,O-O,Bc5,a3,d6,Nc3,Nf6,Na4,Na5,Ba2,Nxe4,d3,Nf6,Nxc5,dxc5,Nxe5,O-O,Ng6,Re8,Re1,Rxe1+,Qxe1,Qe8,Bxh6', 'Qxe1+,Rxe1,gxh6', 'https://lichess.org/training/jhur5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JHuwc', 'Rapid', 'Itano', 1953, 'juvanneddu', 1867, 'e4,c5,Nc3,d6,Nf3,Nf6,Bb5+,Nc6,d4,cxd4,Nxd4,Bd7,Bg5,e5,Nf5,Bxf5,exf5,Be7,O-O,O-O,f4,Qb6+,Kh1,Nd4,Ba4,Rfd8,Bb3,Nxb3,axb3,Qc7,Bxf6,Bxf6,Nd5,Qc6,Nxf6+,gxf6,Rf3,Kh8,Rh3,Rg8,Qf3,Qxc2,Qxb7,Rac8,Rg1,e4,Qxf7,Rg7,Qxf6', 'Qxg2+,Rxg2,Rc1+,Rg1,Rxg1#', 'https://lichess.org/training/JHuwc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JhV3u', 'Rapid', 'ANESU', 1970, 'Mattlang', 1981, 'd4,d5,e3,Nf6,Bd3,c6,f4,Bg4,Nf3,Nbd7,Nbd2,e6,c3,Bd6,Qc2,O-O,Ne5,Bh5,O-O,c5,Ndf3,c4,Be2,Ne4,Nxc4,dxc4,Qxe4,b5,Qc6,Qb6,Qxb6,Nxb6,Bd2,Bg6,Nh4,Be4,Bf3,Bxf3,Nxf3,f6,e4,Rac8,e5,fxe5,fxe5,Be7,Bg5,Rc7,Bxe7,Rxe7,Ng5,h6,Ne4,Nd5,Rxf8+,Kxf8,Rf1+,Kg8,Nd6,b4,cxb4,Nxb4,a3,Nc2,Nxc4,Nxd4,Rd1,Rd7,Kf2,Rd5,Ne3,Rd8,Nc2', 'Rf8+,Kg3,Nxc2', 'https://lichess.org/training/JhV3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JHXhe', 'Rapid', 'xenceri', 1780, 'Annbuut', 1655, 'd4,c6,e4,d6,Nf3,Nf6,Nc3,Bg4,Be2,Nbd7,O-O,h6,Bf4,Nh5,Be3,Nhf6,Qd2,g5,d5,Bg7,Bd4,c5,Be3,a6,Ne1,Bxe2,Nxe2,Nxe4,Qd3,Nef6,f4,Ng4,fxg5,Nxe3,Qxe3,hxg5,Qxg5,Rg8,Nd3', 'Bd4+,Nxd4,Rxg5', 'https://lichess.org/training/JHXhe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jHy7v', 'Classical', 'MasterSalomon', 2060, 'shapoormotamedpoor', 1971, 'd4,d5,c4,c6,g3,dxc4,Bg2,b5,a4,b4,Nf3,a5,Ne5,Bb7,O-O,Nf6,Bg5,e6,Nxc4,Be7,e4,O-O,e5,Nd5,Bxe7,Qxe7,Nbd2,Ba6,Rc1,Nd7,Ne4,c5,Ned6,cxd4,Qxd4,f6,exf6,N7xf6,Rfe1,Bxc4,Nxc4,Qf7,Ne5,Qh5,Nd3,Rae8,Rc6,Qf5,Nc5,Kh8,Rcxe6,Rxe6,Nxe6,Re8,Bxd5,Qxd5,Qxd5,Nxd5,Kf1,Nb6,b3,Nd7,Nd4,Rxe1+,Kxe1,Kg8,Kd2,Nc5,Kc2,Kf7,Nc6,Nb7,Kd3,Ke6,Nd4+,Kd5,f3,Nc5+,Ke3,g5,h4,gxh4,gxh4,Nd7,f4,Nf6,f5,Nd7,Kd3,Nc5+,Ke3,Ke5,Nc6+,Kxf5,Nxa5,Kg4,Kd4,Na6,Kc4,Kxh4,Kb5,Kg3,Kxa6,h5,Nc4,h4,Kb7,h3,Ne3,Kf2,Ng4+,Kg3,Ne3,Kf2,Nd5,h2,Nxb4,h1=Q+,Nc6,Ke3,a5,Qd5,b4,Qb5+,Kc7,Ke4,Kd6,Qa6,Kc5,Kf5,b5,Qa8,a6,Ke6,Kb6,Kd7,a7,Kc8,Ne7+,Kd7,Nc6,Kc8,Na5,Kd7,Ka6,Qe4,Nc6,Qe8', 'Nb8+,Ke6,a8=Q', 'https://lichess.org/training/jHy7v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jhykN', 'Rapid', 'Master1move', 2018, 'iyad882', 2172, 'c4,e5,Nc3,Nf6,e4,Bb4,Nge2,O-O,g3,d6,Bg2,Be6,d3,Qd7,O-O,Bh3,Bg5,Bxg2,Kxg2,Ng4,Nd5,Bc5,b4,Bxf2,Rxf2,Nxf2,Kxf2,f6,Bd2,c6,Ne3,Qh3,Qg1,Nd7,Qg2,Qh5,g4,Qf7,Kg1,g6,Rf1,Kh8,Ng3,Rg8,Qf3,Rgf8,g5,Kg7,Qg4,Qe7,h4,fxg5,Qxg5,Qxg5,hxg5,Rxf1+,Kxf1,Rf8+,Kg2,Nb6,Ng4,Na4,Be3,Nb2,Nf2,b6,Bc1', 'Rxf2+,Kxf2,Nxd3+,Ke3,Nxc1', 'https://lichess.org/training/jhykN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jhz8o', 'Blitz', 'El_boy_el_G', 1513, 'Phalanxe', 1513, 'd4,b5,a4,bxa4,c4,d5,Nc3,dxc4,e4,e6,Bxc4,Nf6,Bb5+,Bd7,Bxa4,Bxa4,Qxa4+,c6,d5,exd5,exd5,Qe7+,Nge2,Nxd5,Nxd5,Qe5,Bf4,Qxb2,Nc7+,Kd8,Rd1+,Kc8,Nxa8,Bb4+,Kf1,Re8,Bxb8', 'Qxe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/jhz8o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JI0li', 'Rapid', 'shamray', 1768, 'telnykh1945', 1800, 'e4,c6,d4,c5,Nf3,cxd4,Nxd4,Nc6,Bc4,e6,Be3,a6,O-O,Ne5,Be2,h6,f4,Nc6,Nc3,Be7,e5,d5,Bd3,Nxd4,Bxd4,Bd7,Ne2,Rc8,Rc1,b5,b3,Bc5,Bxc5,Rxc5,c4,Ne7,cxd5,Rxc1,Qxc1,Nxd5,Be4,Qb6+,Kh1,Bc6,Nc3', 'Nxc3,Qxc3,Bxe4,Qc8+,Qd8', 'https://lichess.org/training/JI0li');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ji0Tv', 'Rapid', 'priporov', 1814, 'datruone2x', 1955, 'e4,e5,Nf3,Nf6,d3,d5,exd5,Qxd5,Nc3,Bb4,Bd2,Bxc3,Bxc3,O-O,Qd2,Nc6,Be2,e4,Bxf6,exf3,gxf3,Re8,Rg1,g6,Qh6,Rxe2+,Kxe2', 'Qe6+,Kd2,Qxf6', 'https://lichess.org/training/Ji0Tv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ji6la', 'Blitz', 'guardianx9', 1865, 'DenizCokZor', 1859, 'd4,Nf6,c4,e6,Nf3,d5,e3,Bb4+,Bd2,Be7,Bd3,O-O,O-O,b6,cxd5,exd5,Nc3,Bb7,Rc1,Nbd7,Bb1,Rc8,Qe2,Ne4,Rfd1,f5,a3,Ndf6,Ne5,Bd6,Nd3,Ba6,f3,Ng5,Qf2,Nf7,Nb4,Bxb4,axb4,Qd7,Ne2,Nd6,Ng3,c6,Bc3,Nc4,Re1,Rce8,Bxf5,Qd6,Bb1,Ng4,Qc2,Nf6,e4,dxe4,Nxe4,Nxe4,fxe4,Qf4,e5,Ne3,Qxh7+,Kf7,Bg6+,Ke7,Bxe8', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/Ji6la');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jic83', 'Rapid', 'agelio', 1724, 'Vladimir_147', 1714, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,b5,a4,bxa4,Nc3,Bb7,Bd3,Nc6,Nxc6,Bxc6,Nxa4,Bxa4,Rxa4,e6,Rxa6', 'Rxa6,Bxa6,Qa5+,c3,Qxa6', 'https://lichess.org/training/jic83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jICLK', 'Rapid', 'EnjoyTheDecay', 1782, 'mrozyyev', 1783, 'd4,d6,Bf4,Nf6,e3,g6,Nd2,Bg7,Ngf3,O-O,g3,Nbd7,Bg2,c5,O-O,cxd4,exd4,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Re8,Re1,Qa5,Bc3,Rxe1+,Qxe1,Qb6,Ne4,Bf5,Nxf6+,Bxf6,Bxf6,Qxf6,c3,Kg7,Bxb7,Rb8,Bd5,Rxb2,Rc1,a5,c4,Rxa2,c5,Ra4,c6,Rd4,Ba2,a4,c7,Re4', 'Qxe4,Bxe4,c8=Q', 'https://lichess.org/training/jICLK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JicPi', 'Rapid', 'pa27olo', 1639, 'nicopero', 1680, 'd4,d5,Nc3,Nf6,Nf3,Bf5,Bg5,e6,e3,Be7,Bxf6,Bxf6,Bd3,Bxd3,Qxd3,Nd7,O-O,O-O,h3,Be7,a3,c5,Ne5,c4,Qe2,Nxe5,dxe5,Qc7,f4,Bc5,Qg4,Bxe3+,Kh1,Qb6,Rf3,Bc5,Rb1,d4,Ne4,Bxa3,Rg3,g6,Nf6+,Kg7,Qh4,Rh8,Rxa3,d3,cxd3,cxd3,Rxd3,Rad8,Rxd8,Qxd8,Qg5,Qd3,Nh5+,Kg8,Nf6+,Kg7,Rg1,b5,Nh5+,Kg8,Nf6+,Kg7,Ng4,h6,Qf6+,Kg8,Qe7,a5,Nf2,Qd4,Rd1,Qxf2,Rd8+,Kg7', 'Qf6+,Kh7,Qxh8#', 'https://lichess.org/training/JicPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JIDb2', 'Rapid', 'SergiyRiz', 1760, 'akalbudi', 1790, 'e3,d5,Ne2,c5,d4,Nf6,dxc5,e5,b4,a5,Ba3,Nbd7,Nec3,g6,Bb5,Bg7,O-O,O-O,Bxd7,Qxd7,e4,dxe4,Qxd7,Bxd7,Nd2,Bc6,Rfe1,Rfd8,Ndxe4,Nxe4,Nxe4,Bxe4,Rxe4,Rd2,c3,Rad8,g3,axb4,Bxb4,Rd1+,Rxd1,Rxd1+,Kg2,f5,Re2,Rd3,a4,e4,Re3,Kf7,Rxd3,exd3,c4,Bh6,f4,g5,Kf3,gxf4,gxf4,Ke6,c6,bxc6,a5,Bg7', 'a6,Bd4,c5', 'https://lichess.org/training/JIDb2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JidbX', 'Classical', 'Shadowkillers', 1812, 'alisenkos', 1804, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,Bc4,e6,O-O,b5,Bb3,Bb7,Re1,Be7,a3,O-O,Qd3,Nc5,Qe3,Nfxe4,Bxe7,Qxe7,Ba2,Qg5,Nxe4,Nxe4,f3,Qxe3+,Rxe3,Nf6,Rd1,Nd5,Ree1,Rac8,c3,Nb6,Nxe6,fxe6,Bxe6+,Kh8,Bxc8,Rxc8,Re7,Bd5,Ra7,Bb3,Rxd6,Na4,Rd2,Nc5,Kf2,h6,h4,Bc4,b4,Nd3+,Kg3,Rc6,Re2,Rg6+,Kh2,Nf4,Rd2,Bf1,g3,Ne2,h5', 'Rxg3,Rxe2,Rh3+,Kg1,Bxe2', 'https://lichess.org/training/JidbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jIdFg', 'Rapid', 'Dampier', 1831, 'Shawn50-50', 1848, 'e4,c5,Nf3,a6,Nc3,d6,h3,Nf6,d4,cxd4,Nxd4,Nc6,Nf5,g6,Ng3,Bg7,Nd5,O-O,c3,Nxd5,exd5,Ne5,Be2,b5,O-O,Bb7,Be3,f5,Bg5,Nf7,Bf4,Ne5,Qb3,Kh8,Rad1,Rb8,Rfe1,Qb6,Be3,Qd8,Bf4,Rc8,a4,Rb8,axb5,axb5,Bxe5,Bxe5,Qxb5,Qc8,Nh1,Qd8,Qb3,Bc6,Qc2,Bd7,Kf1,Ra8,Bc4,Qc7,Bb3,f4,c4,f3,g4,Bh2,Rxe7,Be5,Re1,Qd8,R7xe5,dxe5,Rxe5,Ra1+,Re1,Rxe1+,Kxe1,Qa5+,Qc3+,Qxc3+,bxc3,Re8+,Kf1,Re2,Bd1,Re4,Bxf3,Rxc4,Ng3,Rxc3,Kg2,Kg7,Ne4,Rd3', 'Nc5,Bb5,Nxd3', 'https://lichess.org/training/jIdFg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jIdGx', 'Rapid', 'Angolano1', 2163, 'Reira13', 2143, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,bxc6,O-O,Bc5,Be3,Qe7,Re1,Bb6,f3,Ng5,Qd2,Ne6,Nf5,Qf8,c4,Bxe3+,Nxe3,Qc5,cxd5,cxd5,Qxd5,Qxd5,Nxd5,Rb8,b3,Rb5,Nbc3,Rc5,Rac1,c6,Nb4,Nf4,Ne4', 'Rxc1,Rxc1,Ne2+,Kf2,Nxc1', 'https://lichess.org/training/jIdGx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JidP8', 'Rapid', 'youngsizar', 1899, 'philosophe', 2060, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d5,Bf4,c6,e3,O-O,Bd3,dxc4,Bxc4,b5,Bd3,Nbd7,a3,a6,b4,Nb6,Rc1,Be6,O-O,Bc4,Ne5,Nfd5,Nxc4,Nxf4,Nxb6,Nxd3,Qxd3,Qxb6,Ne4,a5,Nc5,Rfd8,Qb1,axb4,axb4,e5,dxe5,Bxe5,Qe4,Rd5,Rfd1,Rad8,Rxd5,Rxd5,g3,f5,Qc2,Kf7,Nd3,Bd6,Nf4,Bxf4,gxf4,Qc7,Qxc6', 'Rd1+,Kg2,Rxc1', 'https://lichess.org/training/JidP8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jidRa', 'Rapid', 'boukhettan', 1684, 'aerosolpaint', 1651, 'e4,c5,Nf3,d6,d4,cxd4,Bb5+,Bd7,Nxd4,Qa5+,Nc3,e5,Bxd7+,Nxd7,Nf5,Ngf6,Nxd6+,Bxd6,Qxd6,Nxe4,Qa3', 'Qxa3,bxa3,Nxc3', 'https://lichess.org/training/jidRa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jIEin', 'Rapid', 'WillBlunder4Cash', 1721, 'BasharMansour', 1863, 'd4,g6,Bf4,h6,e3,Bg7,Nf3,d6,c3,e6,Nbd2,Ne7,Bd3,c6,Qc2,b6,c4,Ba6,O-O,d5,c5,Bxd3,Qxd3,bxc5,Be5,f6,Bg3,c4,Qa3,O-O,b3,cxb3,Nxb3,Nd7,Rac1,Re8,Bd6,Nf5,Rxc6,Nxd6,Qxd6,Bf8,Qg3,Kg7,Nh4,g5,Nf3,Nb6,Nbd2,Qd7', 'Rc7,Qxc7,Qxc7+', 'https://lichess.org/training/jIEin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JiEPa', 'Rapid', 'Ybelskiy', 2006, 'ckchudy', 2087, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,h6,Nf3,e4,Nh4,Bc5,O-O,O-O,c3,Bd6,d3,exd3,Bxd3,Ng4,g3,Nxh2,Kxh2', 'Qxh4+,Kg1,Bxg3', 'https://lichess.org/training/JiEPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jIF3j', 'Rapid', 'Edo2000', 1885, 'Sponkie', 1890, 'd4,Nf6,c4,e6,Nc3,Bb4,Bf4,Bxc3+,bxc3,c5,Nf3,b6,Bd6,Ne4,dxc5,bxc5,Qd3,Bb7,Rb1,Bc6,Ne5,f5,f3,Qh4+', 'g3,Nxg3,hxg3', 'https://lichess.org/training/jIF3j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jiG6T', 'Blitz', 'hash11011', 2012, 'ClittaryHilton', 2007, 'd4,e6,Nf3,d5,Bf4,c5,dxc5,Bxc5,e3,Nc6,h3,Nge7,Be2,Ng6,Bg3,e5,O-O,e4,Nd4,Nxd4,exd4,Bb6,c3,O-O,Nd2,f5,Nb3,f4,Bh2,Bc7,Bg4,Bxg4,Qxg4,b6,a4,Qd6,a5,Rae8,axb6,axb6,Ra7,Rf7,Rfa1,Qd7,Qh5,Qb5,Nd2,Qxb2,Qxd5,Qxd2,Rxc7,Rf8,Rxf7,Rxf7,Ra8+,Nf8,Bg3,fxg3', 'Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/jiG6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JIGAQ', 'Rapid', 'Fischersspirit', 1934, 'YuraTaiga', 1778, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bxd4,Bxd4,Nf6,Nc3,Qe7,f3,d5,Bxf6,Qxf6,Nxd5,Qd8,Bc4,Ne5,Bb3,O-O,O-O,c6,Ne3,Qg5,Qe2,Ng6,Rad1,Nf4,Qf2', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/JIGAQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jIgTK', 'Rapid', 'Haxtor', 1722, 'Zagor2000', 1662, 'e4,e6,e5,b6,d4,Bb7,Nc3,h6,Bc4', 'Bxg2,Qg4,Bxh1', 'https://lichess.org/training/jIgTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JIh8S', 'Classical', 'Covo', 1879, 'Debashis1984', 1804, 'd4,d5,Bf4,e6,e3,c5,c3,a6,Nf3,Nc6,Bd3,h6,Nbd2,Nf6,Qe2,Be7,h3,c4,Bc2,b5,a3,O-O,O-O,Bd6,Ne5,Bb7,Ndf3,Nh5,Bh2,Nf6,g4,Bxe5,dxe5,Nh7,h4,f6,exf6,Qxf6,Bf4,e5,g5,hxg5,Bxg5', 'Qxf3,Bxh7+,Kxh7,Qxf3,Rxf3', 'https://lichess.org/training/JIh8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jiHGx', 'Classical', 'Opatil', 1805, 'advaitgangal', 1604, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,h3,h6,Bf4,e6,Ne2,Be7,Qc2,O-O,O-O,Bd7,Ng3,Rc8,Ne2,Re8,Nd2,Qb6,Nf3,Nb4,Qd2,Nxd3,Qxd3,Qxb2,Rfb1,Bb5', 'Qxb5,Qxb5,Rxb5', 'https://lichess.org/training/jiHGx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jihrb', 'Rapid', 'tj_1990', 2085, 'Axmedovichkuyada', 1973, 'd4,e5,dxe5,f6,f4,fxe5,Nf3,exf4,Bxf4,Nf6,Nc3,Bb4,Qd3,d6,O-O-O,O-O', 'Qc4+,Kh8,Qxb4', 'https://lichess.org/training/Jihrb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JIidk', 'Rapid', 'apollo017', 1915, 'Guyidead', 1952, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,Nxc6,Nf3,e5,Bb5,Bc5,Nxe5,Qd4,Qe2,O-O,O-O,Nxe5,d3,Ng6,Be3,Qd6,d4,Bb6,h3,Re8,Bxe8,Nxe8,Bf4,Qxf4', 'Qxe8+,Nf8,Nd5,Qg5,Ne7+,Qxe7,Qxe7', 'https://lichess.org/training/JIidk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JIKQ5', 'Classical', 'ErSV', 1852, 'egibb', 1857, 'e4,e6,d4,b6,Nf3,Bb7,d5,Nf6,Bg5,h6,Bxf6,Qxf6,e5,Qf4,Nc3,Bb4,Qd4,Qxd4,Nxd4,Bxd5,Kd2,c5,Nb5,Na6', 'Nd6+,Ke7,Bxa6', 'https://lichess.org/training/JIKQ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jilMP', 'Blitz', 'posesivian', 1645, 'a8r', 2039, 'c4,Nf6,Nc3,e6,e3,d5,d4,c6,Nf3,Bd6,b3,Ne4,Bb2,f5,Be2,Nd7,O-O,O-O,h3,Rf6,Nh2,Rg6,g3,Bxg3,fxg3,Rxg3+,Kh1,Qh4,Nxe4,Rxh3,Rf2,Qxe4+,Kg1', 'Rg3+,Kf1,Qh1#', 'https://lichess.org/training/jilMP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JInDr', 'Rapid', 'tecnoraptor', 1559, 'Jackovskye', 1533, 'd4,Nf6,Nc3,d5,Bf4,Nc6,e3,e6,Nb5,Bd6,Nxd6+,cxd6,Bd3,e5,dxe5,dxe5,Bg5,e4,Bb5,h6,Bh4', 'Qa5+,Qd2,Qxb5,Bxf6,gxf6', 'https://lichess.org/training/JInDr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JiNvH', 'Rapid', 'laurencechess', 1665, 'emiltilev1971', 1639, 'd4,Nf6,Nf3,d6,Bf4,g6,h3,Bg7,e3,Bf5,c3,O-O,Bc4,Nc6,a3,Re8,Nbd2,Ne4,Nxe4,Bxe4,O-O,d5,Bd3,Bxd3,Qxd3,e6,Ne5,Nxe5,Bxe5,Bxe5,dxe5,Qg5,f4,Qe7,Rf3,c5,Raf1,c4,Qc2,a5,Kh2,b5,g4,b4,axb4,axb4,f5,bxc3,fxg6,hxg6,bxc3,Ra7,Qf2,Rea8,h4', 'Ra2,Kh3,Rxf2', 'https://lichess.org/training/JiNvH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jinXW', 'Rapid', 'ringo3400', 1682, 'KOBa7', 1670, 'd4,e6,e4,b6,Be2,Bb7,Bf3,Nf6,Nc3,Bb4,e5,Nd5,Bd2,Bxc3,Bxc3,Nxc3,bxc3,Bxf3,Qxf3,Nc6,Nh3,Qe7,O-O,O-O-O,a4,Kb8,Qd3,g5,f3,h5,Nf2,g4,fxg4,hxg4,Nxg4,Qh4,h3,Rdg8,Qf3,Na5,Qxf7,Nc4,Qf2', 'Rxg4,Qxh4,Rgxh4', 'https://lichess.org/training/jinXW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jIOty', 'Rapid', 'medh007', 1753, 'highhowareyou', 1737, 'e4,c6,d4,d5,exd5,cxd5,c4,Bf5,Nc3,Nf6,c5,h6,b4,b6,b5,bxc5,dxc5,e6,c6,Bc5,Na4,Qa5+,Bd2,Bb4,Nf3,Bxd2+,Nxd2,Ne4,Nb2,Nc3,Qb3,Ne4,Qe3,Nxd2,Qxd2,Qxd2+,Kxd2,a6,c7,Nd7,bxa6,O-O,Bb5,Nb8,Rac1,e5,cxb8=Q,Raxb8,Rc5,Bd7,a4,Bxb5,axb5,Rb6,Na4,Rf6,Ke3,d4+,Kd3,e4+,Kxd4,Rd8+,Kxe4,Re6+,Kf3,Rd3+,Kf4,Rd4+,Kf5', 'g6#', 'https://lichess.org/training/jIOty');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jIOY1', 'Bullet', 'Ahedres_2019', 1584, 'DrTest', 1656, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,Ne4,O-O,d5,exd6,Nxd6,Re1+,Be7,Bb3,O-O,Nxd4,Re8,Nxc6,bxc6,Nc3,Bf5,Bf4,Bf6,Qf3,Bxc3,bxc3,Qf6,Rxe8+,Rxe8,Qxc6,Be4,Qxc7,Qxf4,Rd1,Qg4,f3,Bxf3,Rd2,Ne4', 'Qxf7+,Kh8,Qxe8#', 'https://lichess.org/training/jIOY1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JiP8n', 'Rapid', 'Aleksandrmal', 1794, 'alex5kov', 1950, 'd4,f5,c4,Nf6,Nc3,b6,Nf3,Bb7,e3,g6,Be2,Bg7,O-O,O-O,Bd2,e6,Rc1,h6,Qb3,Kh7,c5,Nc6,Ne5,Nxe5,dxe5,Ng4,f4,h5,h3,Nh6,cxb6,cxb6,Nb5,Nf7,Bb4,Rg8,Nd6,Nxd6,Bxd6,Bf8,Rc7,Bd5,Bc4,Bxd6,exd6,Rc8,Rxc8,Qxc8,Bxd5,exd5,Qxd5,Re8,Re1,Re6,Kf2,Qc2+,Re2,Qa4,a3,Kg7,Rd2,Kf6,Qd4+,Qxd4,Rxd4,g5,fxg5+,Kxg5,Kf3,Rg6,h4+,Kf6,g3,Ke5,Ra4,a5,Rd4,Rxd6', 'Rxd6,Kxd6,Kf4,Ke6,Kg5', 'https://lichess.org/training/JiP8n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jiPps', 'Blitz', 'Martina3glia', 1624, 'gandesp18', 1604, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d3,d6,Bg5,h6,Bxf6,Qxf6,Be2,Be7,Nd5,Qg6,Nxc7+,Kf8,Nxa8,Bf6,O-O,Be6,Nc7,Nd4,Nxe6+,Nxe6,g3,h5,d4,h4,dxe5,dxe5,Qd6+,Kg8,Qb8+,Kh7,Qd6,hxg3,fxg3,Kg8,Qb8+,Kh7,Qxb7,Nf4,Qb5,Kg8,Kh1,Qh6,Nh4,Bxh4,gxh4,Qxh4,Qe8+,Kh7,Qxf7,Nxe2,Qf5+,Kg8,Qc8+,Kh7,Rf8,Rxf8,Qxf8', 'Qxe4+,Qf3,Qxf3#', 'https://lichess.org/training/jiPps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jiuz9', 'Rapid', 'Dr1001', 1689, 'XmxChess', 1718, 'e4,e6,e5,c5,b3,Nc6,Bb2,d6,exd6,Qxd6,Nf3,Nge7,Bb5,Nf5,Be5,Qd7,g4,Nd6,Bxc6,Qxc6,O-O,f6,Bg3,Be7,h3,e5,Nc3,Be6,Re1,O-O,Nh4,b5,Qf3,Qd7,Nf5,Bxf5,gxf5,Nxf5,Qd5+,Qxd5,Nxd5,Bd8,a4,Nd4,Ra2,Nf3+,Kf1,Nxe1,Kxe1,bxa4,Rxa4,Rc8,Rxa7,c4,b4,Rf7,Ra4,Rd7,Ne3,c3,d3,g6,f4,exf4,Bxf4,Re7,Kf2,Bb6,Kf3,g5,Nd5,Rb7,Bd6,Bd8,Bc5,Kf7,Nxc3,Be7,Ne4,f5,Ng3,Bxc5,bxc5,Rxc5,c4,Kg6,Ra6+,Kf7,Nh5,g4+,hxg4,fxg4+,Kxg4,h6,Rxh6,Rb3,Nf4,Kg7,Rd6,Rb1', 'Ne6+,Kf6,Nxc5+', 'https://lichess.org/training/Jiuz9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jIvdU', 'Blitz', 'timci66', 1663, 'Mr_2018', 1670, 'g3,e6,Bg2,d5,a3,Nf6,b4,b6,Bb2,Bb7,c4,Qc8,Bxf6,gxf6,cxd5,Bxd5,Nf3,c5,bxc5,Bxc5,Nc3,Qb7,Nxd5,exd5,d3,Nc6,Qb3,Nd4,Nxd4,Bxd4,Rb1,Rd8,O-O,O-O,a4,Bc5,a5,Qe7,axb6,axb6,e3,f5,d4,Bd6,Bxd5,h5,h4,Kh7,Bf3,Kh6,Kg2,Rg8,Qd3,f4,exf4,Bxf4,Qf5,Qxh4,d5,Bxg3,fxg3,Qxg3+,Kh1', 'Qh4+,Qh3,Qxh3#', 'https://lichess.org/training/jIvdU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JIvPL', 'Blitz', 'BayerischerSchweizer', 2383, 'original_chesss', 2311, 'd4,Nf6,c4,e6,Nc3,c5,d5,exd5,cxd5,g6,e4,d6,f3,Bg7,Bg5,h6,Be3,O-O,Qd2,Kh7,Be2,a6,a4,Nbd7,Nh3,Ne5,Nf2,Rb8,O-O,Bd7,h3,b5,axb5,axb5,f4,Nc4,Bxc4,bxc4,e5,Nh5,Ng4,Ng3,Rf3,Nf5,Bf2,h5,Nf6+,Bxf6,exf6,Qxf6,g4,hxg4,hxg4,Nd4,Rh3+,Kg8,Ne4,Qxf4,Bxd4,Qxg4+,Kf2,Qf5+,Kg1,cxd4,Rh4,Qe5,Qh6,Qg7', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/JIvPL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jiVys', 'Classical', 'mwange', 1757, 'Rafa-rojas', 1771, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,c3,a6,Ba4,b5,Bc2,d6,d4,exd4,cxd4,Bb6,Bg5,h6,Bh4,Bg4,Qd3,Bxf3,gxf3,Nxd4,Bd1,O-O,Nc3,c6,Ne2,Nxe2+,Bxe2,Re8,Rad1,Re6,f4,Rxe4', 'Bxf6,Qxf6,Qxe4', 'https://lichess.org/training/jiVys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JiW6F', 'Rapid', 'Macbeth59', 1838, 'Vitabo', 1776, 'e4,d5,exd5,c6,c4,cxd5,d4,dxc4,Bxc4,e6,Nf3,Nc6,O-O,Bd6,Re1,Nge7,d5,Na5,dxe6,Nxc4,exf7+,Kf8,Bg5,Bg4,Qb3,Qc7,Bxe7+,Bxe7,Nc3,Bxf3,gxf3,Kxf7,Re4,Rhc8,Nd5,Nd2,Nxc7+', 'Nxb3,Rxe7+,Kxe7', 'https://lichess.org/training/JiW6F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jiw9P', 'Classical', 'Vitalik118', 1881, 'BossoVsEbano', 1907, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Nf3,Nc6,O-O,g6,Re1,Bg7,d4,O-O,dxe5,Be6,Bb3,Qd7,Bg5,h6,Bh4,g5,Bg3,Rad8,c3,Rfe8,Nbd2,Bg4,h3,Bh5,Qc2,Bg6,Qd1,Re6,Nd4,Nxd4,cxd4,Ree8,Nf3,Nb4,Re3,Nc6,Rc1,Nxd4,Nxd4,Qxd4,Qxd4,Rxd4,e6,c6', 'exf7+,Bxf7,Rxe8+', 'https://lichess.org/training/jiw9P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JIYxx', 'Rapid', 'Adelhb', 2135, 'Kobracan', 2127, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,d5,c6,Bg5,h6,Bh4,Be7,Be2,cxd5,exd5,O-O,O-O,a6,Re1,b5,a3,Bb7,b4,Nb6,Bxf6,Bxf6,a4,e4,Nd4,Nxd5,Nxd5,Bxd5,axb5,axb5,Rxa8,Qxa8,Nxb5,e3,f3,Qc6,Qd3,Bc4', 'Qxc4,Qxc4,Bxc4', 'https://lichess.org/training/JIYxx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JiZ2n', 'Blitz', 'Anitakumari', 1849, 'zeljkobjeletic', 1825, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bd2,Qc7,O-O-O,Ngf6,Rde1,O-O-O,Ne4,Nxe4,Rxe4,Nf6,Re2,Bd6,Ne5,Bxe5,Rxe5,Rhe8,Bf4,Qb6,Be3,Ng4,Re4,Nxe3,fxe3,e5,Rg4,exd4,Qf5+,Kb8,exd4,Rxd4,Rxd4,Qxd4,Qxf7', 'Qe3+,Kb1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/JiZ2n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JizDd', 'Rapid', 'jacksonorden', 1826, 'tjohnson314', 1868, 'd4,d5,Nf3,Nf6,Bf4,Nc6,e3,a6,Nbd2,Bf5,c4,Nb4,Qa4+,Nc6,Ne5,dxc4,Nxc6,Qd7,Bxc4,Qxc6,Qxc6+,bxc6,Bxc7,e6,O-O,Be7,Rac1,O-O,Nf3,Be4,Ne5,Bd5,Bb3,Rfc8,Nxc6', 'Rxc7,Nxe7+,Rxe7', 'https://lichess.org/training/JizDd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JJ1jz', 'Rapid', 'Alex-1960', 1691, 'Kuna', 1727, 'b3,e5,Bb2,d6,e3,Nf6,Qe2,Be7,Na3,c6,h3,e4,f3,d5,g4,b6,f4,Ba6,Qf2,Bd6,g5,Nh5,Bxa6,Nxa6,Qh4,g6,Bxh8,Qe7,Nb1,Nc7,Ne2,Ne6,Bf6,Qf8,Ng3,Be7,Nxh5,gxh5,Bxe7,Qxe7,Qxh5,O-O-O,Qxh7,c5,Qf5,Kb7,h4,Nc7,h5,d4,exd4,cxd4,h6,e3,d3,e2,h7,Qe3,Nd2,Qg3+,Kxe2,Qg2+,Ke1,Qxh1+,Nf1,Re8+,Kf2,Qh4+,Ng3', 'Qh2+,Kf1,Qxg3', 'https://lichess.org/training/JJ1jz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JJ4Ir', 'Rapid', 'marcialbis', 2089, 'LECESE', 2060, 'e4,e5,Nc3,Nf6,Bc4,Nc6,d3,Bb4,Bg5,h6,Bh4,g5,Bg3,d5,exd5,Nxd5,Ne2,f5,f3,Ne3,Qd2,f4,Bf2,Nxg2+,Kf1,Bh3,Kg1,Nh4,Bxh4,gxh4,Kf2,Nd4,a3,Bc5,Nxd4,Qxd4+,Ke1,Rg8,Bxg8,O-O-O,Ba2,Rd7,Nb5', 'Qxb2,Rb1,Qxa2', 'https://lichess.org/training/JJ4Ir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jj4q0', 'Blitz', 'Hightower2005', 2392, 'Gillamenace', 2318, 'c4,Nf6,Nc3,e6,Nf3,d5,e3,Be7,Qc2,O-O,g4,c5,g5,Nh5,Bd3,g6,b3,Nc6,a3,d4,Ne4,e5,Ng3,Bg4,Be4,f5,gxf6,Rxf6,Ng5,Rd6,Bd5+,Rxd5,cxd5,Qxd5,e4,d3,exd5,dxc2,dxc6,Bxg5,cxb7,Rb8,Ra2,Bd1,Nxh5,gxh5,Rg1,h6,h4,Rxb7,hxg5,Rh7,g6,Rg7,Bb2,h4,Ra1,h3,Bxe5,h2,Bxh2,Re7+,Kf1,Bf3,Rc1,Bd1,g7,Rd7,Bf4,Rd3,Bxh6,Rxb3,d4,Rh3,Be3,c4,d5,Rh5,d6,Rd5,Bf4,Bf3,d7', 'Rd1+,Rxd1,cxd1=Q#', 'https://lichess.org/training/Jj4q0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jj51m', 'Rapid', 'FrankShore', 1730, 'system1980', 1734, 'd4,d6,c4,c6,Nc3,Na6,e4,Qc7,Nf3,b6,Be2,Bb7,O-O,Qc8,a3,e6,b4,f6,e5,f5,exd6,Bxd6,d5,cxd5,cxd5,Qxc3,Rb1,Qc7,dxe6,Nf6,Bb2,Rd8,Rc1,Bxh2+,Nxh2,Rxd1,Rxc7', 'Rxf1+,Nxf1,Nxc7', 'https://lichess.org/training/Jj51m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JJ5kb', 'Rapid', 'paulatreides', 1893, 'Renat1982', 1837, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Qf6,Bxd5+,Be6,Bxc6,bxc6,Qxc6,Bd6,d3,Rhf8,Be3,Kg8,O-O,Rab8,b3,e4,c3,Bxb3,axb3', 'Bxh2+,Kxh2,Qxc6', 'https://lichess.org/training/JJ5kb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jj6vy', 'Rapid', 'jarszach', 2103, 'LenaMotyl', 1962, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Bg5,h6,Bh4,Nbd7,Nf3,c5,e5,dxe5,dxe5,Ne8,Nd5,Qa5+,Kf1,e6,Ne7+,Kh7,Nxc8,Nxe5,Nd6,Nxf3,Bxf3,Nxd6,Qxd6,Bxb2,Rd1,Rac8,h3,Qxa2,Kg1,b6,Qd3,Kg8,Bg3,Bd4,Kh2,Qa4,Be4,f5,Bf3,e5,Bd5+,Kh7,f3,Qd7,Rhf1,Rce8,Qc2,a5,Be1,Qe7,Qb3,Qg5,Qxb6,a4,Qa7+,Re7,Qxa4,e4,fxe4,f4,Rf3,Qf6,Qc2,h5,Bd2,Qe5,Rdf1,g5,Qc1,Be3,Bxe3,fxe3+,Kg1,Rxf3,Rxf3,e2,Qe1,Qd4+,Kh1', 'Qd1,Qxd1,exd1=Q+', 'https://lichess.org/training/Jj6vy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jjaCJ', 'Rapid', 'IVICA789', 2096, 'Bob1949', 1888, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,O-O,Bd3,e5,d5,Ng4,Bd2,f5,h3,Nf6,exf5,gxf5,f3,Nh5,g4,Qh4+,Kf1,Ng3+,Kg2,Nxh1,Kxh1,fxg4,fxg4,Na6,Be1,Qf6,Ne4,Qe7,Qd2,Nc5,Nxc5,dxc5,Be4,Bd7,Qd3,Bh6,Bg3,Bf4,Kg2,Bxg3,Kxg3,Rad8,Nf3,Rf4,Nh4,Rdf8,Nf5,Bxf5,Bxf5,e4,d6,cxd6', 'Qd5+,Kg7,Kxf4', 'https://lichess.org/training/jjaCJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jJclT', 'Rapid', 'radvin8003', 1647, 'Phelipi', 1659, 'e4,e5,Nc3,Bb4,Nge2,Bxc3,Nxc3,Nf6,d3,O-O,Bg5,d6,Qf3,Nbd7,O-O-O,a5,h4,h6,Bd2,a4,a3,c6,Kb1,b5,g4,Nc5,Ne2,Bxg4,Qg3,Na6,d4,exd4,Rg1,Qd7,f3,h5,fxg4,Nxe4,Qf4,Nxd2+,Rxd2,hxg4,Rxg4,g6,h5,Qe6,hxg6,fxg6,Qg3,Rxf1+,Nc1,Rxc1+,Kxc1,Kg7,Kb1,Rf8,Rd1,b4,Rgxd4,bxa3,Qxa3,d5,Qxa4,Nc7,Qa7,Rf7,Qb6,Nb5,Rxd5,Ra7,Rxb5,Qa2+,Kc1,Qa1+,Kd2,Rd7+,Kc3,Qxd1,Qxc6,Qd2+,Kb3,g5,Qc3+,Qxc3+,Kxc3,Kh6,Rf5,g4,b4,g3,Rf3,g2,Rg3,Rc7+,Kb3', 'Rg7,Rxg2,Rxg2', 'https://lichess.org/training/jJclT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jJcuM', 'Blitz', 'Msato', 2024, 'Michuki', 1950, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,O-O,Nge2,Nc6,O-O,e5,d5,Ne7,f4,exf4,Bxf4,Nh5,Be3,f5,Nf4,Nxf4,Bxf4,fxe4,Bxe4,Nf5,Qc2,Qf6,Rad1,Nd4,Qd2,Nf5,g4,Ne7,Bg5,Qe5,Rxf8+,Bxf8,Bf4,Qg7,Rf1,Bxg4,Bg5,Bf5,Bxe7,Bxe7,Bxf5,gxf5+,Kh1,Kh8,Rxf5,Rg8,Rf1,Bf6,Ne4,Bd4,b3', 'Qg1+,Rxg1,Rxg1#', 'https://lichess.org/training/jJcuM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jjDDo', 'Blitz', 'josuelimo', 2330, 'FM melksham', 2297, 'c4,e6,Nc3,d5,cxd5,exd5,d4,Nf6,Nf3,c6,Bf4,Bd6,Bg3,O-O,e3,Bg4,Bd3,Re8,Qc2,a5,Ne5,Bh5,O-O,Bg6,Nxg6,hxg6,Bxd6,Qxd6,Rfe1,Na6,a3,Nc7,Rad1,Ne6,Be2,Ng5,Na4,Re7,Qc5,Qc7,Qb6,Qd7,Nc5,Qe8,Bd3,Nd7,Nxd7,Qxd7,Ra1,Ne4,Bxe4,Rxe4,b4,axb4,axb4,Rxa1,Rxa1,g5,Ra8+,Kh7,Qd8,Re7,h3,Qxd8,Rxd8,Kg6,b5,Kf5,bxc6,bxc6,Kf1,Ke6,Ke2,f6,Kf3,Ra7,Rg8,Rb7,g3,Ra7,h4,gxh4,gxh4,Rc7,h5,c5,dxc5,Rxc5,Rxg7,d4,h6,dxe3,fxe3,Rh5,h7,Kf5,Ra7,Kg6,Kf4,Rxh7,Ra8,Rh4+,Kf3,Rb4,Rg8+,Kf5,Rg2,Ke6,Rh2,Rb6,e4,Ke7,Kf4,Ke6,Rh8,Rc6,Ra8,Kf7,Ra5,Ke6,Rb5,Rd6,Rc5,Ke7,Kf5,Re6', 'Rc7+,Kd6,Rc6+,Kxc6,Kxe6', 'https://lichess.org/training/jjDDo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jjfpd', 'Blitz', 'FM ZuchBolt', 2240, 'GM xamax2000', 2252, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Ne2,Re8,Qc2,h5,Be3,Be6,O-O,Nd7,Nf4,Bxf4,Bxf4,Bd5,Rae1,Nf8,h3,g6,c4,Be6,Bh6,Qxd4,Bxf8,Kxf8,Bxg6,fxg6,Qxg6,Bf7,Qh6+,Kg8,Re3,Re5,Rg3+,Rg5,Rxg5+,fxg5,Qxg5+,Qg7,Qf4,Re8,Rd1,Be6,Rd6,Bxh3,g3,Bg4,Kh2,Rf8,Qd2,Qf7', 'Qg5+,Qg7,Rg6', 'https://lichess.org/training/Jjfpd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JJG81', 'Classical', 'IvoLevicharov', 1741, 'ricardohenn', 1628, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bb4,d3,O-O,Bg5,d6,a3,Bxc3+,bxc3,Bg4,h3,Bxf3,Qxf3,a6,O-O,Na5,Ba2,b5,Qe2,c6,d4,Re8,Rfd1,Qb6,Bxf6,gxf6,Qg4+,Kh8,Bxf7,Re7,Ba2,Rg7,Qf5,Rf8,dxe5,dxe5,Rd6,Rg6,Rad1,Nc4,Bxc4,bxc4,Rd7,Rfg8,g4,Qb2,Qh5,R6g7,Rxg7,Rxg7,Rd8+,Rg8,Rd7,Rg7,Qe8+,Rg8,Qf7,Qc1+,Kg2,Qh6,Qxc4,Qf4,Qe2,h5,Qf3,hxg4,Qxf4,exf4,Rd6,gxh3+,Kxh3,Rg6,Rxc6,Rh6+,Kg4', 'f5+,Kxf4,Rxc6', 'https://lichess.org/training/JJG81');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jjGhY', 'Classical', 'f234fgl', 2124, 'StankovicSrgjan', 1835, 'e4,e5,Bc4,Nf6,d4,d5,exd5,exd4,Qxd4,c6,Qe3+,Be7,dxc6,Nxc6,Nf3,O-O,O-O,Re8,Qd3,Qc7,a3,Bg4,Nbd2,Rad8,Qc3,Nd5,Bxd5,Rxd5,Re1,Qd7,b4,Bf6,Rxe8+,Qxe8,Qc4,Rxd2,Bxd2,Bxf3,Re1,Ne5,Rxe5,Bxe5,gxf3,Qd7,Qd3,Qc7,f4,Bf6,c4,Kf8,c5,Ke8,Qd5,Qd7,Qxd7+,Kxd7,b5,Bd4,Be3,Bxe3,fxe3,Ke6,e4,f5,e5,Kd5,c6,bxc6,bxc6,Kxc6,Kf2,Kd5,Ke3,h6,h4,g6,Kd3,g5,fxg5,hxg5,h5', 'Kxe5,h6,Kf6', 'https://lichess.org/training/jjGhY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JjgmK', 'Classical', 'timme', 1862, 'paperknight', 1627, 'e4,d5,exd5,e5,dxe6,Bxe6,Nf3,Nf6,d4,Be7,c4,O-O,Nc3,Re8,d5,Bg4,Be2,Bc5,O-O,h6,Bf4,a6,a3,Nh5,Bd2,Qe7,Re1,Qf6,b4,Ba7,c5,Nd7,Be3,Qxc3', 'Bd4,Qxe1+,Qxe1', 'https://lichess.org/training/JjgmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JJgnB', 'Classical', 'leoardon', 1907, 'AmirMary77777', 1847, 'd4,f5,Nc3,Nf6,Bg5,e6,e4,fxe4,Nxe4,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Nf3,O-O,Bd3,b6,O-O,Bb7,Ne5,Qg5,Qg4,Qf6,Qh5,g6,Nxg6,hxg6,Bxg6,Qg7,Rae1,Rf6,Be4,Bxe4,Rxe4,Nc6', 'Rg4,Ne7,Rxg7+', 'https://lichess.org/training/JJgnB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jjh45', 'Rapid', 'insanelymaniac', 2068, 'HeyYara', 2021, 'd4,e6,c4,f5,e4,fxe4,Nc3,Bb4,Qg4,Qf6,Qxe4,Nc6,Nf3,b6,Bd3,Bb7,Bg5,Qf7,Qe3,Nge7,O-O,O-O-O,c5,h6,Bf4,g5,Be5,Nxe5,Nxe5,Qg7,cxb6,cxb6,Nb5,Nd5,Qg3,a6,Rac1+,Bc6,Nxc6,dxc6,Rxc6+,Kb7,Nd6+', 'Kxc6,Rc1+,Kd7', 'https://lichess.org/training/jjh45');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jjhhF', 'Blitz', 'FM GMshooter96', 2503, 'Noob_Ako2125', 2521, 'e4,c6,Nc3,d6,d4,g6,f4,Bg7,Nf3,Nf6,Bd3,O-O,O-O,Nbd7,e5,Nd5,Nxd5,cxd5,Qe1,e6,c3,b6,a4,a6,b3,dxe5,fxe5,Bb7,Bg5,Qc7,Rc1,Rac8,Qh4,f6,exf6,Nxf6,Ne5,Ne4,Ng4,Rxf1+,Rxf1,Nxg5,Qxg5,Qxc3,Bxg6,Qxd4+,Kh1,hxg6,Qxg6,Rf8', 'Nh6+,Kh8,Rxf8+,Bxf8,Nf7#', 'https://lichess.org/training/jjhhF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jjIbZ', 'Rapid', 'PsoyKorolenko', 2247, 'TheBeastWithin', 2390, 'e4,c5,Nf3,d6,Bb5+,Bd7,Qe2,Nc6,O-O,g6,c3,Bg7,Rd1,Rc8,d3,Nf6,Bg5,h6,Bh4,g5,Bg3,h5,Nxg5,h4,Bf4,e5,Be3,Ng4,Bxc6,Rxc6,Qf3,f5,exf5,Nxe3,Qxe3,Bh6,f4,O-O,Ne6,Bxe6,fxe6,Bxf4,Qh3,Qg5,Na3,d5,d4,cxd4,cxd4,e4,Nb5,a6,Nc3,Re8,Rf1,Rcxe6,Kh1,Bb8,Rf5,Qg7,Nxd5,Rg6,Raf1,e3,Nxe3,Qxd4,Nd5,Be5,Nc3,Qd2,R5f2,Qg5,Ne4,Qh6,b3,Re7,Qf5,Kh7,h3,Qg7,Qh5+,Rh6,Qf5+,Rg6,Ng5+,Kh6,Nf3,Bg3,Rc2,Rf6,Qc5,Rc7,Qe3+,Bf4,Rxc7,Qxc7,Qe4,Bg3,Rd1,Qf7,Qe3+,Bf4,Qe2,Qh5,Qf2,Bg3,Qe3+,Bf4,Qf2,Bg3,Qd2+,Kg6,Qd3+,Qf5,Qxf5+,Kxf5,Kg1,Rc6,Kf1,Ke4,Ng5+,Ke3,Nf3,Rc2,a4,Rf2+,Kg1,Rb2,Nd4,Be5,Nf5+,Ke2,Rf1', 'Bh2+,Kxh2,Kxf1', 'https://lichess.org/training/jjIbZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JjJFI', 'Rapid', 'Igoris1111', 1891, 'keinstein1', 1910, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,c3,O-O,d4,exd4,cxd4,Bb6,d5,Na5,e5,Ne4,Bc2,Nxf2,Rxf2,Bxf2+,Kxf2,c6,d6,f6,Qd3,g6,Kg1,Nc4,Bb3,fxe5,Nxe5,Qf6,Bxc4+,bxc4,Qxc4+,Kh8,Ng4,Qf5,Bd2,h5,Bc3+,Kh7,Ne3', 'Qf2+,Kh1,Qxe3', 'https://lichess.org/training/JjJFI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JjjzX', 'Rapid', 'tjackmeister', 1874, 'AKiedis', 1931, 'g3,c6,Bg2,g6,d4,Bg7,Nf3,Nf6,Bf4,O-O,Nbd2,b6,e4,Ba6,c4,Nh5,Be3,Qc7,b3,d6,Rc1,Nd7,d5,Ne5,Nxe5,Bxe5,O-O,Rac8,a4,Bb7,Nf3,Bg7,Nh4,a5,Bh3,Rcd8,f4,Nf6,Bg2,Nd7,f5,Ne5,Bg5,f6,Bf4,g5,Bxe5,dxe5,Ng6,hxg6,fxg6,Rfe8,h4,gxh4,gxh4,Bc8,Qh5,Qd7,Rf3,Qg4,Qh7+,Kf8,Rcf1,cxd5', 'Rxf6+,exf6,Rxf6+,Ke7,Qxg7#', 'https://lichess.org/training/JjjzX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JjkVm', 'Rapid', 'azlautech', 1709, 'martinkoch', 1700, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,c5,c3,cxd4,exd4,Bd6,Bg5,h6,Bh4,Nbd7,Bb5,Qb6,Bxf6,gxf6,Bxd7+,Bxd7,Qc2,Ke7,Nbd2,Rhg8,g3,Rac8,O-O-O,a5,Qh7,a4,Nb1,a3,b3,Ba4,Nfd2,Qxd4,bxa4,Rxc3+,Nxc3,Qxc3+,Qc2,Qa1+,Nb1,Kd7,Qc3', 'Rc8,Qxc8+,Kxc8', 'https://lichess.org/training/JjkVm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JJl65', 'Blitz', 'Cardiff7', 1883, 'Sir76', 1803, 'd4,d5,Bf4,Nc6,Nf3,Bf5,e3,e6,Bd3,Bg4,O-O,Bd6,Bxd6,Qxd6,Nbd2,Nf6,c3,O-O-O,c4,Nd7,c5,Qe7,a4,e5,Re1,e4,Bf1,exf3,gxf3,Bh5,a5,a6,b4,Nxb4,Qb3,Nc6,Reb1,Ndb8,Bh3+,Rd7', 'Qxb7+,Kd8,Qxb8+,Nxb8,Rxb8#', 'https://lichess.org/training/JJl65');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JjLnz', 'Rapid', 'Archablue_Lull', 1695, 'mohit619', 1626, 'd4,g6,c4,Bg7,Nc3,Nc6,Nf3,d6,d5,Ne5,e4,Nxf3+,Qxf3,Bxc3+,Qxc3,f6,Bd3,e5,dxe6,Bxe6,Be3,Ne7,Qxf6,Kd7,c5,Rf8,Qd4,Nc6,Bb5,Qe7,cxd6,Qxd6,Qc3,Kc8,Rd1,Qb4,Qxb4,Nxb4,O-O,Nxa2,Bc5,Rg8,f4,c6,Be2,b6,Bd6,Kb7,f5,gxf5,exf5,Bd5,f6', 'Rxg2+,Kh1,Rxe2+,Rxd5,cxd5', 'https://lichess.org/training/JjLnz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JJNvi', 'Rapid', 'fsgagsssdd', 1886, 'otibrez', 1807, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Bg4,Be2,Nbd7,O-O,O-O,h3,Bxf3,Bxf3,e5,dxe5,Nxe5,Be2,Nfd7,Be3,f5,exf5,Rxf5,Qd5+,Kh8,Qxb7,Nc5,Bxc5,dxc5,Nd5,Rb8,Qxc7,Qxc7,Nxc7,Rxb2,Rae1,Rf6,f4,Nc6,Bf3,Nd4,Bd5,Ne2+,Kh2,Nxf4,Re8+,Bf8,Ne6,Nxd5', 'Rxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/JJNvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JJNz9', 'Classical', 'akacct', 2000, 'sobti16', 1978, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nb3,Nf6,Nc3,Qb4,f3,a6,Bd2,Qb6,Bd3,g6,Qe2,Bg7,Be3,Qc7,O-O,O-O,Rad1,d6,a3,e5,Nd2,Be6,Qf2,Nh5,Nc4,b5,Nb6,Rab8,Nbd5,Qd8,Bb6,Qd7,Be3,Kh8,Be2,f5,exf5,gxf5,f4,exf4,Nb6,Qe8,Bxh5,fxe3,Qe2,Qd8,Nbd5,Qg5,Nf4,Bc4,Nd3,Nd4,Qe1,Qxh5,Qxe3,Nxc2,Qd2,Bd4+,Nf2,Bxf1,Qxc2,Bxf2+,Qxf2,Bc4,Rxd6,Qg4,Rd4,Qg5,h4,Qc1+,Kh2,f4,Rd7,Qe3,Qc2,Qg3+,Kg1,Qd3', 'Rxd3,Bxd3,Qxd3', 'https://lichess.org/training/JJNz9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jjo19', 'Rapid', 'Astaba', 1991, 'kreedz', 1968, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,h3,Bf5,Nf3,Nbd7,Bd3,Bg6,O-O,e6,Bg5,c6,Ne5,Be7,Nxg6,hxg6,Ne2,Nb6,c3,Rh5,Bf4,Nfd5,Qc2,Nxf4,Nxf4,Rh4,g3,Rh8,Bxg6,fxg6,Qxg6+,Kd7,Qxe6+,Kc7,Rfe1,Bd6,Qf7+,Qd7,Ne6+,Kb8,Qxg7,Rxh3,Qxd7,Nxd7,Ng5,Rh8,Nf7,Kc7,Nxh8,Rxh8,Re2,Nf6,Kg2,Rg8,Re6,Nd5,Rh1', 'Nf4+,Kf3,Nxe6', 'https://lichess.org/training/Jjo19');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JjqIE', 'Blitz', 'Archi1975', 1851, 'laufer85', 1848, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,O-O,Nf6,Nc3,O-O,h3,Bb7,a3,d5,Bd3,dxe4,Nxe4,Nxe4,Bxe4,Qh4,Qf3,Ba6,Bxc6,Rad8,Re1,Rd6,Be3,Bxe3,Rxe3,Rf6,Re4,Qg5,Qc3,Qf5,f3,Bc8,Ba4,Qd5,Qd4,Qa5,Bb3,Bb7,Re5,c5,Rxc5,Qb6,Rd1,Bxf3,gxf3,Rxf3,Bd5', 'Qg6+,Qg4,Rg3+,Qxg3,Qxg3+', 'https://lichess.org/training/JjqIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jjs0O', 'Rapid', 'DinkenSanfridsson', 1619, 'solognot', 1841, 'e4,g6,d4,c6,Nf3,d5,e5,Bg4,h3,Bxf3,Qxf3,Nh6,Nc3,Qb6,Be2,Nf5,O-O,Nxd4,Qd3,e6,Bg4,Nf5,Bxf5,gxf5,Be3,Qc7,Qd2,Qxe5', 'Bd4,Qd6,Bxh8', 'https://lichess.org/training/jjs0O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JjSFJ', 'Rapid', 'E-balda', 2068, 'Ultron-2', 1942, 'd4,Nf6,Nf3,c5,d5,d6,c4,e5,Nc3,Be7,e4,O-O,Bd3,Ne8,O-O,g6,Bh6,Ng7,Qd2,f5,a3,f4,Bxg7,Kxg7,b4,b6,b5,g5,h3,g4,hxg4,Bxg4,Nh2,Qd7,Nxg4,Qxg4,Qe2', 'f3,Qxf3,Rxf3', 'https://lichess.org/training/JjSFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jJvZ3', 'Rapid', 'Roadto2010', 1755, 'AlexeyMysyakin', 1704, 'd4,d5,Nf3,Nc6,g3,Bf5,Bg2,e6,O-O,Bd6,c4,Nf6,Nc3,dxc4,Nh4,Bg6,Nxg6,hxg6,Qa4,Ng4,Bxc6+,bxc6,Qxc6+,Ke7,h4,Rh5,e4,f6,e5,fxe5,dxe5,Bxe5,Re1,Qd4,Be3,Nxe3,Rxe3,Rf8,Rd1,Qg4,Qd7+,Kf6,Ne4+,Kf5,f3,Qh3,g4+,Kf4,Nf2,Qg3+,Kf1,Rxh4,Re4+,Kg5,Rxe5+,Qxe5,Qe7+,Rf6,Ne4+,Kh6,g5+,Kh5,Nxf6+', 'gxf6,Qh7+,Kxg5,Qxh4+,Kxh4', 'https://lichess.org/training/jJvZ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jjwcy', 'Rapid', 'JustAChessPlayer4', 1861, 'Juri37', 1834, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,Bg4,O-O,e6,Re1,c6,h3,Bh5,d3,Qf6,Bg5', 'Bxf3,Bxf6,Bxd1', 'https://lichess.org/training/Jjwcy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jjxSL', 'Rapid', 'Elrick_one', 1837, 'Davo11', 1807, 'd4,Nf6,c4,d5,Bg5,h6,Bh4,g5,Bg3,Bg7,e3,Nc6,h3,Ne4,Nf3,Bf5,Bh2,g4,Ne5,Nxe5,dxe5,gxh3,gxh3,dxc4,Qa4+,Qd7,Qxc4,b5,Qb4,a6,Bg2,Rd8,Qd4,Qxd4,exd4,Rxd4,O-O,Rg8,Nc3,Nd2,Rfd1,Bc2,Ne2,Nf3+,Bxf3,Rxd1+,Rxd1,Bxd1,Kf1,h5,Ke1,Ba4,Bxh5,Bc2,Nd4,Be4,f3,Bd5,b3,Rh8,Bg4,f6,exf6,Bxf6,Nf5,Bh4+,Kd2,Bg5+,Kd3,e5,Bxe5,Rf8,Ng7+,Kd8,Kd4,Bxf3', 'Ne6+,Ke8,Nxf8', 'https://lichess.org/training/jjxSL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JJyGC', 'Rapid', 'Reks7', 1808, 'Simbod01', 1835, 'e4,Nc6,d4,d5,e5,e6,c3,f6,f4,fxe5,Nf3,e4,Ne5,Nxe5,dxe5,Bc5,a4,Nh6,b4,Be7,Be2,Nf5,O-O,g5,fxg5,Bxg5,Bd2,Rg8,Bh5+,Kd7,Rxf5,exf5,Bxg5,Rxg5', 'Qxd5+,Ke7,Qf7#', 'https://lichess.org/training/JJyGC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jJzUh', 'Rapid', 'Billaamama', 1771, 'varnachess', 1828, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,Nbd7,e5,dxe5,dxe5,Ng4,e6,Nb6,Qxd8,Rxd8,exf7+,Kf8,Bb3,c5,Ba4', 'Bxc3,bxc3,Nxa4', 'https://lichess.org/training/jJzUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jk1c7', 'Rapid', 'isthistory', 1713, 'miro21', 1711, 'e4,c6,Bc4,e6,d3,Bb4+,Bd2,Qb6,Nc3,Bc5,Nh3,d5,Na4,Bxf2+,Nxf2,Qc7,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Qg4,g6,Qd1,Rc8,c3,Ngf6,Bg5', 'Qe5+,Kf1,Qxg5', 'https://lichess.org/training/jk1c7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jK1TX', 'Rapid', 'AbdulHalilAbdullah', 2079, 'crispol0525', 2092, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nf3,Nf6,Bg5,Be6,O-O,O-O,c3,c6,Nbd2,Nbd7,Re1,Re8,Qb3,Qb6,Re2,h6,Bh4,Qxb3,axb3,a6,Rae1,Kf8,Bc2,Bg4,Bg3,Rxe2', 'Bxd6+,Kg8,Rxe2', 'https://lichess.org/training/jK1TX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JK5UB', 'Bullet', 'IM mutdpro', 3005, 'abyssus', 2895, 'g3,h5,h3,h4,g4,e5,Bg2,d5,c4,dxc4,Na3,Be6,Bxb7,Nd7,Bxa8,Qxa8,Nf3,e4,Ng5,e3,f3,exd2+,Bxd2,Bd5,Nb5,Qb7,Nc3,Bc6,Qc2,Ngf6,Nge4,Nxe4,Nxe4,Bxe4,Qxe4+,Qxe4,fxe4,Bd6,Rc1,Bg3+,Kf1,Nb6,Be3,O-O,Bxb6,cxb6,Rxc4,Rd8,Kg2,Rd2,Kf3,Rxb2,Ra4,a5,Rd1,Rb5,Rc4,Rb2,a4,Rb3+,Rd3,Rb1,g5,Rf1+,Kg2,Rf2+,Kg1,Rxe2,Rd7,Re1+,Kg2,Re2+,Kf3,Rf2+,Kg4,Rf4+,Kh5,Kh7,Rxf7,Rxf7,g6+,Kg8,gxf7+,Kxf7,Kg5,Ke6,Kg6,Bf2,Kxg7,Ke5,Kg6,Bd4,Kg5,Kxe4,Kxh4,Kd3,Rc8,Bc5,Kg4,Kc4,h4,Kb4,h5,Kxa4,h6,Kb5,h7,Bd4,Rd8,Ba1,Rd1,Bh8,Kf5,a4,Rd8,Ba1,Rd5+,Kb4,Rd1,Bh8,Rd8,Bc3,Re8,Ba1,Re4+,Kb3,Re3+,Ka2,Re2+,Bb2,Re1,a3,Re2,Kb3,Rxb2+', 'axb2,h8=Q,b1=Q+', 'https://lichess.org/training/JK5UB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jK7Bw', 'Blitz', 'CM RobertoRochaMAO', 2188, 'DTrave7', 2204, 'e4,c5,Nf3,Nc6,Bc4,g6,O-O,Bg7,c3,e6,d4,cxd4,cxd4,d5,exd5,exd5,Re1+,Nge7,Bb5,O-O,Nc3,a6,Ba4,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd3,b5,Bd1,Nec6,Be3,Re8,Rc1,Qd7,a3,Rad8,Na2,h5,Nb4,Nxb4,axb4,Nf5,Bb3,Nxe3,fxe3,Bxb2,Rc5,Bg7,Rxd5,Qc7,Rxd8,Rxd8,Qxg6,Rd6,Bxf7+,Kf8,Rf1', 'Rxg6,Bxg6+,Kg8', 'https://lichess.org/training/jK7Bw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JkaZd', 'Blitz', 'K_426-Izic', 1922, 'hollersven', 1890, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bxb5,Qxd5,Nc3,Qxg2,Qf3,Qxf3,Nxf3,Bd7,O-O,O-O-O,Bxc6,Bxc6,Nxe5,Bb7,Nxf7,Rd4,f3,Bc5,Nxh8', 'Rg4+,Kh1,Bxf3+,Rxf3,Rg1#', 'https://lichess.org/training/JkaZd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jKbvP', 'Bullet', 'na_nex008', 2118, 'Enigma41', 2121, 'c4,e5,Nc3,f5,g3,Nf6,Bg2,d6,Nf3,Be7,O-O,O-O,e3,e4,Nd4,c5,Nb3,a6,d3,exd3,Qxd3,Nc6,a3,Ne5,Qe2,Rb8,Bd2,h6,Rad1,Qb6,Nd5,Nxd5,Bxd5+,Kh8,Na5,Qxb2,Rb1,Qxa3,Rb3,Qa2,Rfb1,Bd8,Nxb7,Bxb7,Bxb7,a5,R1b2,Qa4,Bd5,Rxb3,Rxb3,Qxb3,f4,Nd3,Kg2,Nb4,Be1,Nxd5,cxd5,Qxd5+,Kh3,Re8,Bc3,Qe4,Qh5,Qxe3', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/jKbvP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKcct', 'Bullet', 'REDUNZL', 1945, 'pepe26', 1989, 'e4,c5,f4,e6,c3,d5,e5,d4,Bb5+,Bd7,Bxd7+,Qxd7,d3,Nc6,Qc2,Nge7,Nd2,Nd5,Ne4,Be7,Nf3,O-O,O-O,f5,exf6,gxf6,Qf2,Kh8,Qh4,Rg8,Bd2,Rg7,Kh1,Rag8,Rf2,Nd8,Rg1,dxc3,bxc3,Nf7,c4,f5,Nfg5,Nxg5,Nxg5,Nf6,Rf3,Ng4,Rh3,Bxg5,fxg5,Qd4,Rf3,e5,Rgf1,e4,Rh3,e3,g6,e2', 'Qxh7+,Rxh7,Rxh7#', 'https://lichess.org/training/JKcct');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JkcgM', 'Blitz', 'TheSefirOfTheWorld', 1776, 'amet8968', 1774, 'e4,e5,f4,Nc6,Nf3,d6,d3,Bg4,Nbd2,f5,exf5,Bxf5,g3,Qf6,Bg2,Nd4,Nxd4,exd4,Nf3,O-O-O,O-O,Kb8,Nh4,Bd7,Bd2,Nh6,Qf3,Bc6,Qe2,Bxg2,Nxg2,Nf5,c3,dxc3,Bxc3,Qg6,a4,h5,Be1,h4,a5,a6,Rf3,Nd4,Qd1,Nxf3+,Qxf3,hxg3,Bxg3,Be7,f5,Qf6,Ne3,Qxb2,Re1,Bh4,Nc4,Qd4+,Kg2,Bxg3,Qxg3,Rh4,Kh1,Rdh8,Re2,Rh3,Qg6,Qf4,Re8+,Ka7,Qg1+,b6', 'axb6+,cxb6,Qxg7#', 'https://lichess.org/training/JkcgM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jKD44', 'Rapid', 'ArtureRimbaud', 1821, 'Matafot', 1925, 'd4,c6,Nf3,d5,Nbd2,Bf5,c4,e6,e3,Nd7,b3,Ngf6,Bb2,Be7,Be2,O-O,O-O,h6,Ne5,Qc7,h3,Bd6,cxd5,exd5,Nxd7,Qxd7,Rc1,Ne4,Nf3,f6,a3,g5,g4,Bxg4,hxg4,Qxg4+,Kh1,Qh3+,Kg1,g4,Ne5,fxe5,dxe5,g3,fxg3,Qxg3+,Kh1,Nf2+,Rxf2,Rxf2,Qg1,Qxg1+,Rxg1+,Kf8,exd6,Rxe2,Bg7+,Kf7,Bd4,Rg8,Rxg8,Ke6,Rg6+,Kd7,Rxh6,Ra2,Bxa7,Rxa3,Bd4,Rxb3,Kg2,b6,Kf3,c5,Be5,d4,Ke2', 'Rxe3+,Kd1,Rxe5', 'https://lichess.org/training/jKD44');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jKdwW', 'Classical', 'Mikki_Zabella', 1884, 'Newtonnani', 1827, 'e4,Nc6,d4,e5,d5,Nce7,f4,Ng6,fxe5,Nxe5,Nc3,Nf6,Bf4,Ng6,Bg3,Bb4,Ne2,O-O,Qd3,Re8,O-O-O,d6,a3,Ba5,Bf2,Bg4,h3,Bxe2,Bxe2,Bxc3,Qxc3,Nxe4,Qe3,Qf6,Rdf1,Nc5,Qd2,Na4,Bd4,Qh4,Qb4,Nb6,Bd3,Nxd5,Qc4,Ndf4,Kb1,d5,Qxc7,Rac8,Qxb7,Rb8,Qxa7,Ra8,Qc7,Nxd3', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/jKdwW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKeed', 'Blitz', 'liad', 2226, 'CM HabibAmini', 2338, 'd4,d6,c4,Nf6,Nc3,g6,e4,Bg7,f4,O-O,Nf3,Na6,Be3,Bg4,Be2,c5,d5,Nc7,O-O,a6,a4,Bxf3,Rxf3,e5,fxe5,dxe5,Qd2,Nd7,Raf1,Ne8,Bg5,f6,Bh6,Nd6,Rh3,Qe7,Bg4,f5,Bg5,Bf6,Bxf6,Rxf6,exf5,gxf5,Qg5+,Qg7,Qxg7+,Kxg7,Be2,Raf8,b3,Rg6,Bh5,Rg5,Bd1,e4,Bc2,Ne5,Ne2,Ng6,Nf4,Nxf4,Rxf4,Nf7,Re3,Ne5,h3,Ng6,Rf1,Re8,Kh2,Nh4,Re2,Ng6,g3,h5', 'h4,Nxh4,gxh4', 'https://lichess.org/training/JKeed');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JkEYL', 'Rapid', 'tirald', 1753, 'plota', 1644, 'e4,e5,g3,Nf6,Bg2,c6,b3,d5,exd5,cxd5,Bb2,Bd6,d3,Be6,Nd2,Nc6,Ne2,a6,O-O,h6,h4,O-O,Nf3,Qd7,Qd2,Bh3,Nh2,Rfe8,a4,a5,f4,Qe6,fxe5,Bxg2,Kxg2,Nxe5,Nf4,Qc8,Rae1,Qc6,Re2,Nfg4,Nxg4,Nxg4,Bd4,Bxf4,Rxf4,h5,Kh3,Re6,Rf5,g6,Rf4,Rae8,Rxe6,Qxe6,Rf3,Qe2,Qxe2,Rxe2,Bg1,Rxc2,d4,Kg7,Rd3,Rc1,Kg2,Rc2+,Kf3,Rc1,Be3,Rf1+,Ke2,Rh1,Bf4,Rh2+,Kf1,Rf2+,Ke1,Ra2,Rd2,Ra1+,Ke2,Rh1,Bc7,Nf6,Bxa5,Ne4,Rd3,Rh2+,Kf1,Ra2,Ke1,Ra1+,Ke2,Rg1,Be1,Rg2+,Kd1,Rg1,Ke2,Rg2+,Kd1,Nf2+,Bxf2,Rxf2,Ke1,Rh2,Kd1,Rh1+,Ke2,f5,Kf3,Rf1+,Kg2,Rb1,Kf2,Kf6,Kf3,Rf1+,Ke2,Rg1,Kd2,Rg2+,Kc1,g5,hxg5+,Kxg5,b4,Kg4,a5,Rg1+,Kc2,Rg2+,Kb3,Rxg3', 'Rxg3+,Kxg3,b5', 'https://lichess.org/training/JkEYL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKFGV', 'Blitz', 'trumanharper', 1643, 'emilianogalvez492', 1531, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Nf6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Bg5,Be7,Rd1,Qc8,Nc3,Qe6,Qf5,Qxf5,exf5,O-O,Be3,Nd5,Nxd5,cxd5,Rxd5,Bf6,Rad1,h6,c3,c6,Rc5,Rad8,Rxd8,Rxd8,h3,Rd1+,Kh2,Ra1,Rxc6,Rxa2,Rc8+,Kh7,b4,a5,bxa5,Rxa5,Rc7,e4,Rxf7,Be5+,f4,Bf6,g4,Ra3,Rc7,h5,g5,Bd8,g6+,Kh6,Rc8,Bf6,Bd4,Ra2+,Kg3', 'h4+,Kg4,Rg2#', 'https://lichess.org/training/JKFGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKfJc', 'Blitz', 'CM Fariasov', 2152, 'N3ubau3rGER', 2272, 'c4,e5,Nc3,Nf6,g3,c6,d4,exd4,Qxd4,d5,Bg2,Be6,cxd5,cxd5,Nf3,Nc6,Qa4,Be7,O-O,O-O,Nd4,Rc8,Nxc6,bxc6,Qxa7,d4,Rd1,Rc7,Qxd4,Rd7,Qa4,Nd5,Nxd5,Bxd5,e4,Be6,Rxd7,Qxd7,Be3,Rd8,Bf3,h6,Rd1,Qc7,Rxd8+,Qxd8,Qxc6,Qd3,Qe8+,Kh7,Qxe7,Bh3,Qc5', 'Qf1#', 'https://lichess.org/training/JKfJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKFrd', 'Rapid', 'sebbooo', 1910, 'Stockfish23-NNU3', 2053, 'd4,Nf6,c4,e6,Bf4,d5,e3,Bd6,Bxd6,Qxd6,Nc3,a6,Nf3,Nbd7,Bd3,c5,cxd5,exd5,O-O,c4,Bc2,b5,a3,Bb7,Rc1,O-O,Ne2,b4,axb4,Qxb4,Rb1,Bc6,Nc3,a5,Ng5,a4,Nh3,a3,Na2,Qd6,bxa3,Rxa3,Nb4,Rfa8,Nxc6,Qxc6,Nf4,Nb6,Qf3,Rc3,Bf5,g6,Bh3,Ne4', 'Rxb6,Qxb6,Nxd5', 'https://lichess.org/training/JKFrd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jkfyX', 'Rapid', 'apis16', 1743, 'samirbavishi1', 1792, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nb5,Nc6,N5c3,Be7,Bc4,Bd7,O-O,Nf6,a3,O-O,b3,Ne5,Bd5,Nxd5,Nxd5,Bc6,c4,a6,Bb2,Bf6,Ra2,b5,Nd2,Bxd5,exd5,Nd3,Bxf6,Qxf6,Ne4,Qd4,Nxd6,Qe5,Qxd3,Qxd6,cxb5,axb5,Rc1,b4,a4,Rfd8,Rd1,Ra7,Rc2,Re7,Rc4,Rde8,g3,Re1+,Kg2,R1e2,Rd2,Re1,Rh4,g6,Rf4,R8e5,Qf3,Re7,Rf6,Qd8,d6,Rd7,Rd5,Kg7,Rxc5', 'Qxf6,Qxf6+,Kxf6', 'https://lichess.org/training/jkfyX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKgEq', 'Rapid', 'sodel', 2210, 'Antikaziyn', 1903, 'e4,e6,d4,d5,Bd3,Nf6,e5,Nfd7,c3,c5,Nf3,Nc6,a3,Be7,b4,cxd4,cxd4,f6,exf6,Nxf6,Bb2,O-O,O-O,Bd7,Re1,Ng4,h3,Nh6,Nbd2,Nf5,Nb3,Nh4,Ne5,Nxe5,dxe5,Qb6,Bd4,Qd8,Nc5,b6,Nxd7,Qxd7,Qg4,Nf5,Bb2,Qa4,Qe2,a5,Bb5,Qb3,bxa5,Bc5,Kh2,Nh4,f3,Rxa5,Bd7,d4,a4,d3,Qe4,g5,Bd4,Rf4,Qc6,Bxd4', 'Bxe6+,Qxe6,Qxe6+', 'https://lichess.org/training/JKgEq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jkgOg', 'Rapid', 'Grish1233', 1728, 'sobh_vinci', 1712, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,Nc3,Bg4,d4,cxd4,Qxd4,Bxf3,Qxd8+,Rxd8,gxf3,e6,Bg5,Be7,Rd1,Rxd1+,Kxd1,O-O,Ke2,h6,Bh4,g5,Bg3,Nd7,Rd1,Nb6,Bd6,Bxd6,Rxd6,Nc4,Rd7,Rb8,b3,Ne5,Rd4,Kg7,Ke3,Kf6,f4,Ng4+,Kf3,e5,fxe5+,Nxe5+,Ke3,Ng4+,Kf3,Ne5+,Ke3,Ke6,f4,gxf4+,Kxf4,Rg8,h3,Rg2,Na4,Rxc2,Rd1,Rxa2', 'Nc5+,Ke7,Kxe5', 'https://lichess.org/training/jkgOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jKHCv', 'Blitz', 'fouad2005', 1832, 'Wandor', 1844, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nf6,O-O,e6,d4,h6,c4,Qd8,Nc3,Bb4,Qa4+,Nc6,d5,exd5,cxd5,Bxc3,dxc6,bxc6,bxc3,Bd7,Ba3,Nd5,Qe4+,Be6,c4,Nc3,Qxc6+,Bd7,Qc5,Nxe2+,Kh1,Qf6,Qxc7,Rc8,Qa5,Rxc4,Rfe1,Re4,Rab1,Qd8,Qxa7,f6,Rb8,Bc8,Rxe2,Qd1+,Ne1', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/jKHCv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jKhDm', 'Rapid', 'ponchic2018', 1711, 'kadirAY1973', 1686, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Be6,Bb5+,c6,Ba4,Nf6,d3,Be7,Bxf4,O-O,O-O,Bg4,Nbd2,d5,e5,Nh5,Be3,d4,Bf2,Bg5,Ne4,Be7,Bb3,Nd7,Bxd4,c5,Bc3,Nf4,Qd2,Ng6,h3,Bxf3,Rxf3,Ngxe5,Rf5,Qc7,Raf1,g6,Bxe5,Nxe5,Nf6+,Kg7,R5f2,c4,dxc4,Bc5,Nd5,Bxf2+,Qxf2,Qd6,c5,Qb8,Qf6+,Kh6,h4,Ng4', 'Qg5+,Kg7,Qxg4', 'https://lichess.org/training/jKhDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jKHRJ', 'Classical', 'AZ54', 1767, 'axa2005', 1777, 'd4,d5,c4,dxc4,e4,Nc6,d5,Ne5,Bf4,Ng6,Be3,e6,Bxc4,Nf6,dxe6,Qxd1+,Kxd1,Bxe6,Bxe6,fxe6,f3,O-O-O+,Ke2,Kb8,Nh3,Nd7,Nf4,Nxf4+,Bxf4,e5,Bg5,Re8,Rd1,Nb6,b3,a6,Nc3,h6,Bh4,g5,Bf2,Nc8,Nd5,Bg7,Rac1,c6,Ne3,Ne7,Nc4,Ng6,g3,h5,Rd6,Nf8,Be3,g4,Rf1,Ne6,Rd7,Bh6,Bxh6,Rxh6,Ke3,Nd4,Nd6,Rxd6,Rxd6,Nxf3,Rxf3,gxf3,Kxf3,Rf8+,Ke3,Rf1,Rh6,Ra1,Rxh5,Rxa2,Rxe5,Rxh2,g4,Rh3+,Kd4,Rxb3,Re8+,Kc7,Ke5,Kd7,Re6,Rg3,Kf4,Rg1,Re5,Kd6,Rf5,Ke6,Ra5,Rf1+,Kg5,Rf6,Kh5,Rf7,g5,Kd6,g6,Re7,Kh6,Rxe4,g7,Rg4', 'Rg5,Rxg5,Kxg5', 'https://lichess.org/training/jKHRJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKIbp', 'Rapid', 'ChinmayDesh', 1778, 'Dima42', 1812, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,b5,Bb3,Ng6,Re1,Na5,Bd5,c6,Bb3,Nxb3,axb3,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Nbd2,O-O,Nf1,Bg4,h3,Bd7,b4,f5,e5,d5,e6,Bc8,Qe2,Re8,Bg5,Qc7,Ng3,Rxe6,Qd2,Rxe1+,Rxe1,a5,Nh4,Nxh4,Re8+,Kf7,Re7+,Qxe7,Bxe7,Kxe7,Qg5+,Kf7,Qxh4,axb4,Qxh7,Bxd4,Nh5,Bxb2,Nf4,b3,Qg6+,Kg8,Qe8+,Kh7,Qxc6,Ra1+,Kh2,Be5', 'Qg6+,Kg8,Qe8+', 'https://lichess.org/training/JKIbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKKBm', 'Rapid', 'stanislav_-1997', 1678, 'ETmaty', 1693, 'c4,e5,Nc3,Bb4,e4,Nf6,d3,c6,f4,Qa5,Qb3,exf4,Bxf4,O-O,Nf3,d5,cxd5,cxd5,e5,Nh5,Bd2,Nc6,Nxd5,Bxd2+,Nxd2,Nxe5,Ne7+,Kh8,Nxc8,Rfxc8,Be2,Nf4,d4,Nxe2,Kxe2,Ng6,Rac1,Re8+,Kd3,Nf4+,Kc2,Rac8+,Nc4,Re2+,Kb1,Qf5+,Ka1,Nd3,Rhf1,Nxc1,Rxc1,Qe6,a3,Re1,Rxe1,Qxe1+,Ka2,Qe2,Nd6,Rc7,Nxb7,Qc4,Nc5,Qxb3+,Kxb3,Kg8,Kc4,g6,b4,Kg7,Kd5,Kf6,a4,Ke7,b5,Rc8,a5,Rd8+,Kc4,Kd6,b6,axb6', 'Nb7+,Kc7,Nxd8,bxa5,Nxf7', 'https://lichess.org/training/JKKBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jkKnk', 'Rapid', 'Teodolit', 1954, 'SeuNaaman94', 2088, 'e4,e6,d4,d5,e5,a6,Nc3,c5,Nf3,Nc6,Bd3,c4,Be2,h6,O-O,Nge7,Na4,b5,Nc5,Nf5,b3,Bxc5,dxc5,Qc7,Bb2,Nce7,a4,bxa4,bxc4,dxc4,Bxc4,Qxc5,Bd3,O-O,Rxa4,Re8,Ba3,Qc6,Rc4,Qb6,Be4,Rb8,Bc5,Qd8,Bxe7,Qxe7,Bxf5,exf5,Re1,Be6,Rd4,Qc5,Qd3,Ra8,Nh4,g6,h3,Rec8,Rd1,Qxe5,f4,Qc5,Re1,Qxc2', 'Rd8+,Rxd8,Qxc2', 'https://lichess.org/training/jkKnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKmMg', 'Rapid', 'Laberintos', 1821, 'JEvans', 1710, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Bc4,b5,Bb3,h6,Bh4,g5,Bg3,b4,Nce2,Nxe4,Qd3,Nxg3,hxg3,Bb7,Rh2,Nd7,Bxe6,fxe6', 'Qg6+,Ke7,Qxe6#', 'https://lichess.org/training/JKmMg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JkMNX', 'Blitz', 'ardalan2414', 1747, 'enriquesartori', 1729, 'g3,e5,Bg2,d5,b3,e4,Bb2,Bf5,e3,Nf6,Ne2,Nc6,O-O,Bd6,d3,h5,h4,g5,hxg5,Ng4,Bxh8,Qxg5,Nf4,h4,Nh3,Qh6,Bc3,hxg3,Qe2,Nxf2,Rxf2,gxf2+,Nxf2,Qh2+,Kf1,O-O-O,Ng4,Qg3,Nf2,Rh8,dxe4,dxe4,Bxh8,Nb4,a3,Nd5,Nxe4', 'Nxe3+,Qxe3,Qxe3,Nxd6+,cxd6', 'https://lichess.org/training/JkMNX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jKMzK', 'Classical', 'kroky32', 1904, 'phamhoangquanbt', 1698, 'e4,e5,Nf3,Nc6,c3,d6,d4,Bg4,Be2,Nf6,O-O,Be7,a3,O-O,dxe5,Nxe5,Nxe5,Bxe2,Qxe2,dxe5,Nd2,c6,Rd1,Qc7,Nf3,Rfd8,Be3,b6,Rd2,Rxd2,Bxd2,Rd8,h3,h6,Rc1,c5,Be3,Nxe4,Bxh6,gxh6,Qxe4,Bg5,Qg4,Qe7,h4,e4,Nh2,f5,Qg3,Rd3,f3,exf3,hxg5', 'Qe3+,Qf2,Qxc1+', 'https://lichess.org/training/jKMzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jkoFI', 'Rapid', 'sayedaborehab', 1805, 'Fandorin28', 1808, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Nxb4,c3,Nc6,d4,exd4,cxd4,Bb4+,Nbd2,d6,Bb2,Bg4,d5,Ne5,Bxe5,dxe5,d6,Qxd6,Bxf7+,Kf8,Bd5,Nf6,O-O,Bxd2,Qxd2,Bxf3,gxf3,c6,Rad1,cxd5,Qb2,d4,Qxb7,Rd8,Qxa7,Nh5,Kh1,Nf4,Rg1,g6,a4,Rd7,Qa8+,Kg7,Qa5,Qe7,Qb5,Ra8,Rg5,Qxg5,Qxd7+,Kh6,Rg1,Qh4,Rg3,Ne2', 'Rh3,Qxh3,Qxh3+', 'https://lichess.org/training/jkoFI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JkPcr', 'Classical', 'AHMAD950', 1661, 'Variante_3', 1651, 'e4,d5,exd5,Qxd5,Nf3,e6,Nc3,Qd8,Bb5+,Nc6,a3,Bd6,d3,Ne7,Bg5,Qd7,Bh4,a6,Ba4,b5,Bb3,Bb7,h3,Ng6,Ne4,O-O,Nxd6,Nxh4,Nxh4,Qxd6,O-O,Nd4,Ba2,Qc6,f3,Qd6,c3,Qg3,cxd4,Qxh4,d5,Bxd5,Bxd5,exd5,Qb3,Qd4+,Kh1,Rfe8,Qc2,Rac8,Rae1,Rxe1,Rxe1,Qb6,Qe2,h6,Qe5,Qd6,Qh2,Qxh2+,Kxh2,Kf8,b4,Re8,Rc1,Re7,Rc6,Ke8,Rxa6,Re3,d4,Kd7,Ra7,Rd3,Rb7,Rxd4,Rxb5,Rd1,a4,d4,a5,Kc6,Rc5+,Kd6,a6,Ra1', 'Ra5,Re1,a7', 'https://lichess.org/training/JkPcr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jkpSI', 'Rapid', 'Aleksandar1977', 1672, 'Goks2507', 1697, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,Qh5,Qf6,O-O,Bd6,Re1,Be5,f4,Bxf4,Rf1,g6,Qg4,Bxh2+,Kxh2,Qxf1,Na3,d5,Qg5,dxc4,Qe5+,Ne7,Qxh8+,Kd7,Qxd4+,Ke8,Nb5,Qf4+,Kg1,c6,d3,Qg3,Nd6+,Kf8,e5,Be6,Bh6+,Kg8,dxc4,Rd8,c5,Nf5', 'Nxf5,Rxd4,Nxg3', 'https://lichess.org/training/jkpSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jkR4n', 'Rapid', 'Fatmir', 1740, 'petiiik', 1835, 'e4,c6,d4,d5,e5,Bf5,h3,e6,Bd3,Bxd3,Qxd3,Ne7,Bg5,Qc7,Qa3,Ng6,Qb3,Be7,Be3,O-O,Nc3,Nd7,Nge2,b5,a3,a5,Na2,a4,Qc3,Nb6,O-O,Nc4,Nb4,Rfc8,Nf4,Nxe3,fxe3,Nxf4,Rxf4,c5,Nd3,c4,Nb4,Qd8,Raf1,f6,exf6,Bxf6,Qe1,Qd6,Qg3,Kh8,Qg4,Rf8,Qh5,Kg8,Qe2,e5,dxe5,Qxe5,Qg4,Qxe3+,Kh1,Rad8', 'Rxf6,Rxf6,Rxf6', 'https://lichess.org/training/jkR4n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKrqf', 'Rapid', 'Roseoris', 1655, 'vage69', 1656, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d3,Bb4,Bd2,Bxc3,Bxc3,O-O,Nxe5,d6,Nxc6,bxc6,h3,d5,Bxf6,Qxf6,exd5,Qe5+,Qe2,Qxb2,O-O,cxd5,Bxd5,Rb8,Rfc1,Qd4,Qe4,Qc5,c4,Rb2,d4,Qa5,c5,Be6,Bxe6,fxe6,Qxe6+,Kh8,Rf1,Qd2,Rad1,Qc2,Qd7', 'Rxf2,Qe8+,Kh7,Qe4+,Qxe4', 'https://lichess.org/training/JKrqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKrUA', 'Blitz', 'NM crptone', 2548, 'manuelpomares', 2487, 'c4,Nf6,g3,e6,Bg2,d5,Nf3,c6,O-O,Nbd7,b3,Bd6,Bb2,O-O,d3,Re8,Nbd2,b5,e4,dxe4,dxe4,e5,Qc2,Qe7,a3,Nc5,Rad1,Bg4,b4,Na4,c5,Bc7,Ba1,a5,h3,Bc8,Rfe1,axb4,axb4,h6,Nf1,Bd7,Ne3,Rad8,Nh4,g6,Nd5,cxd5,exd5,Qf8,d6,Bb8,Bxe5,Rxe5,Rxe5,Qg7,Rde1,Rc8,Qd2,Ba7,Qd4,Nh5,Kh2,g5,Nf3,Nf6,Re7,Nxc5,bxc5,Bxc5,Qb2', 'Ng4+,hxg4,Qxb2', 'https://lichess.org/training/JKrUA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jkSCa', 'Blitz', 'CM AAponte', 2368, 'mocheffendy', 2336, 'd4,c5,c3,Nf6,Nf3,e6,Bf4,d5,e3,b6,Nbd2,Bb7,a4,Be7,Bd3,O-O,O-O,Ne4,a5,Nd7,a6,Bc6,Ne5,Nxe5,dxe5,f5,exf6,Nxf6,Nf3,Bd6,Ne5,Bxe5,Bxe5,g6,h3,Qe7,Qb1,Nd7,Bg3,Qg7,b4,Rac8,b5,Ba8,Qc2,e5,e4,c4,Be2,dxe4,Ra4,Qf7,Qa2,Bd5,Rd1,Kg7,Qd2,Be6,Bg4,Bxg4,hxg4,Nc5,Bxe5+,Kg8,Ra2,Nd3,Bd4,Rcd8,Qh6,Rxd4,cxd4,Nxf2,Rf1', 'Nh3+,Qxh3,Qxf1+', 'https://lichess.org/training/jkSCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JKt4w', 'Classical', 'vajo', 1941, 'cihan5555', 1850, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,h3,h6,O-O,Nf6,d3,O-O,Nbd2,a6,a4,Ba7,b4,Be6,Nh2,Bxc4,dxc4,Ne7,Re1,Ng6,Nb3,b5,c5,dxc5,axb5,axb5,Nxc5,Bxc5,Rxa8,Bxf2+,Kxf2,Qxd1', 'Rxf8+,Kxf8,Rxd1', 'https://lichess.org/training/JKt4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jKu5O', 'Rapid', 'themunky', 2390, 'Mihas3000', 2445, 'e4,c5,Nf3,a6,c4,d6,d4,Bg4,d5,e6,h3,Bxf3,Qxf3,exd5,exd5,Be7,Nc3,Nf6,Bd3,O-O,O-O,Nbd7,Bf4,Ne5,Bxe5,dxe5,Rfe1,Bd6,Ne4,Nxe4,Bxe4,g6,g4,Qg5,Kh1,Kh8,Qe3,Qh4,Qg3,Qxg3,fxg3,f5,gxf5,gxf5,Bc2,e4,Kg2,Rg8,Re3,Bf4,Rb3,b5,cxb5,c4,Ra3,Bd6,Rxa6,Rxa6,bxa6,Rxg3+,Kf2,Rxh3', 'a7,Bc5+,Kg2,Bxa7,Kxh3', 'https://lichess.org/training/jKu5O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JkUWM', 'Blitz', 'Piter13', 1529, 'Horkheiner', 1519, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Bb5,Qc7,O-O,Nf6,Nc3,Nxd4,Qxd4,Bc5,Qd3,O-O,a3,a6,Bc4,b6,b4,Be7,Bb2,Bb7,Rae1,Ng4,Qh3,Ne5,Ba2,a5,f4,Nc4,Bxc4,Qxc4,bxa5,Rxa5,Re3,Bc5,Qg3,g6,Rf3,Bxe4,Nxe4,Qxe4,Qh3,Qxc2', 'Qxh7+,Kxh7,Rh3+,Kg8,Rh8#', 'https://lichess.org/training/JkUWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JkYDB', 'Rapid', 'mzmaz', 2375, 'dudebrobro', 2251, 'd4,d5,Bf4,c6,e3,Nf6,c4,e6,Nc3,Bd6,Bg3,Bxg3,hxg3,Nbd7,Nf3,Qc7,Rc1,O-O,cxd5,exd5,g4,Qd8,g5,Ne8,Bd3,g6,e4,dxe4,Nxe4,Ng7,Ne5,Re8,Kf1,Rxe5,dxe5,Ne6,Nf6+,Nxf6,gxf6,b6,Qd2,h5,Qc2,Nf4,Bc4,Bf5,Qd1,Qc7,Qd4,Ne6,Bxe6,Bxe6,Qf4,Qd8,Qg5,Kf8,Qh6+,Ke8,Qh8+,Kd7,Rd1+,Bd5,Qh6,Kc7,Kg1,Qd7,a4,Qf5,Qe3,Re8,f4,Qxf6,a5,Qe6,b4,Qg4,Rd2,f6,axb6+,axb6,b5,fxe5,bxc6,Bxc6,fxe5,Rd8,Rh3,Rxd2,Qxd2,Qd7,Rd3,Qe7,Qe3,Qc5,Qxc5,bxc5,g3,Bd7,Re3,Be6,Kf2,Kc6,Ke1,Kd5,Kd2,Kd4,Re1,c4,Kc1,c3,Kc2,Bf5+,Kb3,Be6+,Kb4', 'c2,Rc1,Kd3', 'https://lichess.org/training/JkYDB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jKydF', 'Rapid', 'harimato', 1823, 'turuu123456', 1686, 'd4,d5,Bf4,e6,Nf3,Bd6,Bxd6,Qxd6,a3,Nf6,e3,O-O,Nbd2,h6,c4,dxc4,Nxc4,Qd5,Rc1,c6,b4,Nbd7,Nce5,Nxe5,Nxe5,Qa2,Ra1,Qd5,Qc2,Nd7,Nxd7,Bxd7,Rc1,e5,dxe5,Qxe5,Rd1,Be6,Rd2,Bd5,Rd4,f5,Qe2,Rae8,a4,Qd6,b5,f4,e4,Bxe4,Rxe4,Qd7,Qd3', 'Rxe4+,Qxe4,Re8,Qxe8+,Qxe8+', 'https://lichess.org/training/jKydF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jKyyK', 'Rapid', 'Kristiam', 1673, 'wolololololooooo', 1612, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,c6,e3,Be7,cxd5,cxd5,Qc2,Bd7,Nb5,a6,Nc7+,Kf8,Nxa8,Nc6,Bd3,Qxa8,Ne2,Nb4,Qb3,Nxd3+,Qxd3,Bb5,Qc2,Bb4+,Nc3,Ne4,a3', 'Bxc3+,bxc3,Nxg5', 'https://lichess.org/training/jKyyK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jkzP2', 'Rapid', 'VinniD', 2102, 'KVI21-08', 2049, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Nc6,Be2,O-O,O-O,h6,d5,Ne5,Nxe5,dxe5,Be3,Kh7,Qd2,Ng8,f4,exf4,Bxf4,e5,dxe6,Bxe6,Qxd8,Raxd8,Bxc7,Rc8,Bd6,Rfd8,e5,Bxc4,Bxc4,Rxc4,Rxf7,h5,Rxb7,a6,Rf1,Nh6,Nd5,Nf5,Nf6+,Kh6,Re1,Nxd6,exd6,Rxd6,Ne8,Bd4+,Kf1,Rdc6,b3,Rc1,Rxc1,Rxc1+,Ke2,Ra1,Kd3,Bh8,a4,Rg1,g3,Rd1+,Kc4,Rc1+,Kd5,Rc2,Nd6,Rd2+,Kc6,Rc2+,Kb6,Bd4+,Ka5,Rxh2,Kxa6,Rg2,Ne4,Re2,Nd6', 'Re6,Kb5,Rxd6', 'https://lichess.org/training/jkzP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jl0hh', 'Blitz', 'C3PO58', 2260, 'AlexSh_95', 2293, 'd4,Nf6,Nf3,e6,e3,d5,Bd3,c5,b3,Nc6,Bb2,b6,O-O,Bb7,Nbd2,Bd6,a3,O-O,Qe2,Re8,Ne5,Qc7,f4,h6,g4,cxd4,exd4,a6,Rae1,Nd7,g5,hxg5,Nxf7,Kxf7,fxg5+,Ke7,g6,Rf8', 'Qxe6+,Kd8,Rxf8+,Bxf8,Qe8#', 'https://lichess.org/training/jl0hh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jl1Ll', 'Rapid', 'DCirganaerebil', 1884, 'venerabile48', 1862, 'e4,c6,d4,d5,e5,Bf5,h4,e6,g4,Be4,f3,Be7,fxe4,Bxh4+,Ke2,dxe4,Nc3,Bg5,Nxe4,Bxc1,Rxc1,Qb6,Nd6+,Kf8,b3,c5,c3,Ne7,Bg2,Nbc6,g5,cxd4,Qf1,Nf5,Bxc6', 'Ng3+,Kf2,Nxf1', 'https://lichess.org/training/Jl1Ll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jl3nV', 'Blitz', 'ariotofmyown', 2038, 'iambored11', 1973, 'd4,d5,Nf3,e6,g3,Nf6,Bg2,Be7,O-O,O-O,c4,b6,Nc3,Bb7,b3,Nbd7,Bb2,c5,e3,dxc4,bxc4,cxd4,exd4,Qc7,Qb3,Ba6,Nb5,Bxb5,Qxb5,Rac8,Rac1,Rfd8,Rfd1,Ne4,d5,Nd6,Qb3,exd5,cxd5,Qb7,Nd4,Rxc1,Rxc1,Bf6,Nc6,Rc8,Ba3,Nb5,Bb2,Bxb2,Qxb2,Nd6,Re1,Re8,Rxe8+,Nxe8,Qe2,Nef6,Qe7,Qa6,Nd8,Qxa2,Qxf7+,Kh8,Ne6,Qb1+,Bf1,Qg6,Qe7,Qe8,Qd6,Nc5,Bb5,Qxb5', 'Qf8+,Ng8,Qxg7#', 'https://lichess.org/training/jl3nV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jL3qd', 'Classical', 'diablosv', 1734, 'NISHATMADROY', 1943, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,g3,Bb4,Bg2,e5,Nf5,O-O,O-O,Bxc3,bxc3,h6,f4,b6,g4,Nh7,Ba3,Re8,Nd6,Ba6,Rf3,exf4,Rxf4,Qg5,Qf3,Qa5,Bb4,Nxb4,cxb4,Qxb4,Nxe8', 'Qd4+,Qf2,Qxa1+', 'https://lichess.org/training/jL3qd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jl4ji', 'Rapid', 'Son-of-Lost-Haven', 1806, 'rahem', 1807, 'e4,c5,Nf3,d6,Bc4,Nc6,c3,Na5,Bb5+,Bd7,Bxd7+,Qxd7,d4,cxd4,cxd4,e6,O-O,Be7,e5,dxe5,Nxe5,Qd5,Qa4+,Nc6,Nxc6,bxc6,Nc3,Qd7,Bf4,Nf6,Rad1,O-O,Rfe1,Nd5,Nxd5,exd5,Re5,Bf6,Re2', 'Qg4,Re3,Qxf4', 'https://lichess.org/training/Jl4ji');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jL5tw', 'Rapid', 'Pawiscorpio', 1859, 'mashesha', 1837, 'd4,d5,b3,Nf6,e3,Bf5,Bd3,Bg6,Ne2,e6,O-O,Bd6,Ng3,O-O,f4,Nbd7,c4,c6,cxd5,cxd5,f5,exf5,Nxf5,Bc7,Ba3,Re8,Qf3,Nf8,Nc3,Ne6,Bb5,Nd7,Ne7+,Rxe7,Bxe7,Qxe7,Nxd5,Qe8,Nxc7,Nxc7,Bxd7,Qxd7,Qxb7,Qd8,Rac1,Nd5,Rfe1,h6,e4,Nf4,d5,Nd3,e5,Nxc1,Rxc1,Qb6+,Qxb6,axb6,d6,Kf8,Rc7,Rb8,d7,Ke7', 'Rc8,Kxd7,Rxb8', 'https://lichess.org/training/jL5tw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jL7FK', 'Blitz', 'Dangel1991', 1797, 'Quark3', 1667, 'e4,d6,d4,Nf6,Nc3,g6,Bg5,Bg7,f4,O-O,Nf3,Bg4,h3,Bxf3,Qxf3,c6,Bc4,Nbd7,O-O-O,b5,Bb3,a5,g4,a4,f5,axb3,cxb3,b4,Na4,Rxa4,bxa4,Qa5,b3,c5,dxc5,Qxc5+,Kb1,Ne5,Qe3,Qxe3,Bxe3,Rc8,Rd4,Nf3,Rxb4,Nd7,h4,Bc3,Rb7,Nde5,Rxe7,Bb4,h5,Nd2+,Bxd2,Bxd2,hxg6,fxg6,Rhxh7', 'Rc1+,Kb2,Nd3+,Ka3,Bb4#', 'https://lichess.org/training/jL7FK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JL9pV', 'Blitz', 'garciarosabal', 2124, 'Alloyamanga', 2112, 'd4,g6,Nf3,Bg7,Bg5,c5,e3,cxd4,exd4,Nc6,c3,d5,Bd3,Bg4,Nbd2,Nf6,h3,Bxf3,Qxf3,h6,Bh4,O-O,O-O,Qb6,Rab1,Rad8,Rfe1,Rfe8,Nb3,Qc7,Bc2,b6,Re2,g5,Bg3,Qd7,Rbe1,e6,Nc1,Ne7,Nd3,Ng6,Ne5,Nxe5,Bxe5,Nh7,Qd3,Nf8,f4,f6,fxg5,fxe5,gxh6,Bxh6,Rxe5,Qg7,Rf1,Nd7,Rh5,Rf8,Rh4,Rxf1+,Kxf1,Rf8+,Kg1,Rf4,Rh5,Nf6,Re5,Re4,Rxe4,Nxe4,Qe2,Ng5,h4,Nh3+,Kh2,Bf4+,Kh1,Qg3,gxh3', 'Qxh3+,Kg1,Be3+,Qxe3,Qxe3+', 'https://lichess.org/training/JL9pV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JLAKE', 'Rapid', 'anamis2020', 1804, 'Checkmate-777', 1638, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,Nc6,c3,a6,a3,b5,Ba2,e6,O-O,Be7,d4,cxd4,Nxd4,Nxd4,Qxd4,Bb7,e5,dxe5,Qxe5,O-O,Bf4,Ng4,Qh5,f5,h3,Nf6,Qe2,Bd5,Rd1,Qb6,Nd2,Rad8,c4,bxc4,Bxc4,Qc6,Bxd5,Nxd5,Qf3,Qc2,Be5,Bf6,Bxf6,Nxf6,Qb3,Rxd2,Qxe6+,Kh8,Rxd2,Qxd2,b4,Ne4,Rf1,Qd3,Rc1,Qd4,Qxf5,Qxf2+,Qxf2,Nxf2,Rc6,a5,b5,Ne4,b6,Rb8', 'b7,Nd6,Rxd6', 'https://lichess.org/training/JLAKE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JLC2k', 'Rapid', 'Nikolayi10', 1754, 'eliza_kane', 1944, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Qd6,d4,exd4,Qxd4,Bg4,Qe3,O-O-O,Bd2,Kb8,O-O-O,Nf6,h3,Bxf3,Qxf3,Be7,Rhe1,Rhe8,e5,Qd4,exf6,Bxf6,Rxe8,Rxe8,Qd3,Qxf2,Qf3,Qc5,Bf4,g5,Bg3,Qe7,Qd3,h5,Qd2,h4,Bf2,Qe5,Re1,Rd8,Qe2,Qd6,Qd1', 'Qf4+,Be3,Rxd1+', 'https://lichess.org/training/JLC2k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JlDRF', 'Classical', 'Kikolikool', 1749, 'Dingle78120812', 1686, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,d5,exd5,Nd4,Nxe5,Bd6,Nf3,Bg4,Nb5,Bc5,Nbxd4,Bxd4,Bb5+,Nd7,Qe2+,Qe7,Qxe7+,Kxe7,Nxd4,a6,Be2,Bxe2,Kxe2,Rhe8,Kf3,Kd6,Nf5+,Kxd5,Nxg7,Rg8,Nf5,Rg5,g4,Ne5+,Kf4', 'Rxg4+,Ke3,Re4#', 'https://lichess.org/training/JlDRF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jLfWi', 'Rapid', 'mustanco', 1910, 'vladimir195431', 1813, 'd4,Nf6,Bf4,d6,e3,g6,Bd3,Bg7,c3,b6,Nf3,Bb7,Nbd2,Nbd7,Qc2,c5,Ne4,Nd5,Bg3,cxd4,exd4,Rc8,h4,Nb4,Qe2,Nxd3+,Qxd3,h5,Neg5,Nf6,Ne6,fxe6,Qxg6+,Kf8', 'Ng5,Qe8,Nxe6+,Kg8,Qxg7#', 'https://lichess.org/training/jLfWi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jlgkr', 'Rapid', 'Lisdiawan', 1956, 'ozzy19788', 1946, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qa5,d4,Bg4,Qd3,O-O-O,Be3,Bxf3,gxf3,Ne5', 'Qf5+,e6,Qxe5,Qxe5,dxe5', 'https://lichess.org/training/Jlgkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jLhgo', 'Rapid', 'Mayukh108', 1844, 'Rishat83', 1845, 'd4,e6,c4,c5,d5,exd5,cxd5,d6,Nc3,a6,a4,Nd7,e4,Ne5,f4,Nd7,Nf3,Ngf6,Bc4,Be7,O-O,Nb6,Ba2,Bg4,h3,Bh5,g4,Bxg4,hxg4,Nxg4,Ng5,Bxg5,Qxg4,Bf6,a5,Nd7,Bd2,h5,Qh3,g5,fxg5,Bxg5,Bxg5,Qxg5+,Qg2,Qe3+,Qf2,Rg8+,Kh2,Qxf2+,Rxf2,Ne5,Rf5,Ng4+,Kh3,O-O-O,Rxf7,Ne5,Rf5,h4,Raf1,Rg3+,Kxh4', 'Rg4+,Kh3,Rh8+,Rh5,Rxh5#', 'https://lichess.org/training/jLhgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JlIUG', 'Blitz', 'bombdylan', 2061, 'Skill_231', 2064, 'd4,Nf6,Bf4,g6,Nc3,d5,Qd2,Bg7,O-O-O,h6,Nf3,Bf5,Ne5,Nbd7,f3,g5,Bg3,a5,h4,g4,fxg4,Nxg4,Nxg4,Bxg4,Nxd5,Rc8,Qf4,h5,Nxc7+,Kf8,Kb1,Nf6,e4,Bxd1,Bc4,Bg4,e5,Qxc7,Bd3,Nd5,Qg5,e6,Rf1,a4,a3,Rh7,Bxh7,Nc3+,bxc3,Qxc3,Qc1,Rc6,Bd3,Rb6+,Ka2,Ke7,Be1,Qxd4,Bb4+,Kd8,c3,Qxd3,Qg5+,Kc8,Qxg7,Qxf1,Qf8+,Kd7,Qe7+,Kc6', 'Qd6+,Kb5,Qc5+,Ka6,Qa5#', 'https://lichess.org/training/JlIUG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jLIyO', 'Blitz', 'FM Cristopalov', 2470, 'chess960lab', 2465, 'd4,d5,Nf3,e6,c4,h6,g3,Nf6,Bg2,Be7,O-O,O-O,Nc3,c6,Qd3,Nbd7,e4,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qc2,a5,Rd1,a4,Bf4,Nh5,Be3,a3,b3,Nf6,Ne5,Nd7,Nd3,Bf6,Rac1,Re8,Ne5,Qe7,Nf3,h5,Bf4,g6,h4,Bg7,Bg5,Qb4,Bd2,Qf8,Bc3,Nf6,Ng5,Ng4,Re1,Rd8,Rcd1,Bd7,d5,exd5,Bxg7,Qxg7,cxd5,Rac8,d6,Qb2,Re2,Qxc2,Rxc2,Bf5,Rc5,Rd7,Be4,Nh6,Bxf5,Nxf5,Ne4,Kg7,Ra5,Rcd8,Ra4,b5,Rxa3,Nxd6,Nc5,Re7,Ra6,Nb7,Rxd8,Nxd8,a4,Re5,Nd7,Rd5,Nb8,bxa4,bxa4,c5,Ra5,Ne6,Kg2,Rd2,Ra7,c4,Ra6,Rd5,Rc6,Rc5,Rxc5,Nxc5,a5', 'c3,a6,Nxa6,Nxa6,c2', 'https://lichess.org/training/jLIyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JLiZm', 'Rapid', 'PawKoz', 2098, 'david_champion', 2089, 'd4,d5,c4,e5,dxe5,d4,Nf3,c5,g3,Nc6,Bg2,Nge7,O-O,Ng6,Qa4,Bd7,Qb3,b6,Rd1,h5,h4,Rc8,e3,Bg4,Qb5,Be7,exd4,O-O,d5,Ncxe5,Qb3,Bxh4,gxh4,Nxh4,Nxe5,Bxd1,Qxd1,Nxg2,Kxg2,Qh4,Qf3,Rcd8,Nc3,Rd6,Qg3,Qe7,Bf4,Re8,Kf1,Qf6,Nc6,h4,Qg5,Qxg5,Bxg5,h3,Bf4,Rg6,Bg3,Rg4,b3,g5,Re1', 'Rxe1+,Kxe1,Rxg3', 'https://lichess.org/training/JLiZm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JLk5y', 'Classical', 'usyu001', 1813, 'roizebulon', 1851, 'e4,c5,Nc3,d6,Bb5+,Bd7,d4,cxd4,Qxd4,Bxb5,Nxb5,Nc6,Qd1,Nf6,Nc3,g6,Nf3,Bg7,O-O,O-O,Bg5,Rc8,a3,Qb6,Rb1,Rfe8,Qd2,Na5,Qd3,h6,Be3,Qc6,Nd4,Qc4,Qd2,a6,Nf3,Nxe4,Nxe4,Qxe4,Qxa5,Rxc2,Qb6,Rec8,Bd4,R2c7,Bxg7,Kxg7,Rfe1', 'Qxb1,Rxb1,Rc1+,Ne1,Rxb1', 'https://lichess.org/training/JLk5y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jLKDV', 'Classical', 'Jonikorjk', 1720, 'fantoma', 1612, 'e4,e5,Nf3,Nc6,Nc3,d6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,Qe3,Ne7,Bc4,Bd7,Bd2,Nc6,Nd5,Qd8,Qb3,Rb8,O-O,Be7,Qg3,g6,Bh6,Nd4,Qc3,Bf6,Nxf6+,Qxf6,Bxf7+,Kxf7,Qc4+,Ke7,e5,dxe5,Qc5+,Kd8,f4,Ne2+,Kh1,exf4', 'Bg5,Qxg5,Qxg5+', 'https://lichess.org/training/jLKDV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jlKXT', 'Rapid', 'lol531', 1686, 'apakabar', 1702, 'e4,c5,Bc4,e6,Nc3,d6,Nf3,Nf6,d3,Be7,Bg5,h6,Bd2,O-O,Qe2,Nc6,a3,a6,O-O-O,b5,Bb3,b4,axb4,cxb4,Na4,a5,Be3,Ba6,Bb6,Qd7,h3,e5,Nh4,d5,exd5,Nxd5,Nf3,Nxb6,Nxb6,Qc7,Nxa8,Rxa8,Ba4,Bf6,Qe4,Bb7,Qc4,Rc8,Bxc6,Bxc6,Rhg1,Bxf3', 'Qxc7,Bg5+,Kb1,Rxc7,gxf3', 'https://lichess.org/training/jlKXT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JLLTd', 'Rapid', 'Roley42', 1690, 'SadPandaIsCold', 1696, 'c4,e6,Nc3,c6,Nf3,d5,g3,Nf6,cxd5,cxd5,Bg2,Bb4,a3,Ba5,b4,Bb6,d4,Bd7,Bf4,Nc6,Nb5,O-O,Nd6,Rb8,Nb5,Ra8,O-O,Bc8,Bd6,Re8,Bf4,a6,Nd6,Rf8,Nxc8,Qxc8,Rc1,Qd7,Ne5,Nxe5,Bxe5,Ne4,e3,Qe7,Qd3,Nf6,Rc2,Nd7,Bc7,Ba7,Rfc1,Nf6,Be5,Bb8,Bxb8,Rfxb8,Rc7,Qd6,Qc3,h6,Qd3,g6,e4,dxe4,Bxe4,Nxe4,Qxe4,b5,Qf3,Rf8,Rb7,Qxd4,Rxf7,Rxf7,Qxa8+,Kg7,Qxa6,Qxf2+,Kh1,Qd2,Ra1,Rf2,Qb7+,Kf6,Qe4', 'Rxh2+,Kg1,Qf2#', 'https://lichess.org/training/JLLTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JLm6s', 'Rapid', 'Breg64', 1802, 'CroStrelnikov', 1713, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,b6,Nf3,Bb7,Bd3,g6,Bf4,Bg7,O-O,O-O,Qd2,c5,Bh6,cxd4,Bxg7,Kxg7,cxd4,Nc6,Be2,Qf6,Rfd1,Rfd8,d5,exd5,exd5,Ne5,Nxe5,Qxe5,Bf3,Rd6,Rac1,Rad8,Qc3,Qxc3,Rxc3,Bxd5,Rcd3,Bxf3,Rxd6,Bxd1,Rxd8,a6,Ra8,Be2,Rb8,b5,f4,a5,a3,Bc4,g3,h5,Kf2,Kf6,Ke3,g5,Rb6+,Kf5,Ra6,a4,Ra7,gxf4+,gxf4,Kg6,Kd4,Kf5,Ke3,Kg4,Rc7,Kh3,Rc5,h4,Rh5,Kg4,Rg5+,Kh3,Kf2,Kxh2,Rh5,Kh3,Rh7,Kg4,Ke3,h3,Rg7+,Kh4,Kf2,Bd5,Kg1,Kh5', 'Rg5+,Kh4,Rxd5', 'https://lichess.org/training/JLm6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jlMhF', 'Rapid', 'DrSimon', 1996, 'Salim711', 2022, 'e4,e5,f4,d5,exd5,Bc5,Nf3,exf4,d4,Bb4+,c3,Be7,Bxf4,Nf6,Bd3,O-O,O-O,Nxd5,Bd2,Nc6,Na3,Bg4,Nc4,a6,a4,Nf6,Qe2,Qd5,Ne3,Qd7,Nxg4,Nxg4,Qe4,f5,Bc4+,Kh8,Qe1,Rae8,Be6,Qd8,h3,Nf6,Ng5,Bd6,Qh4,Re7,Rxf5,h6,Ba2,Qd7,Raf1,Nd8,Rxf6,Rxf6,Rxf6,gxf6,Qxh6+,Rh7,Qxf6+,Rg7,Be6,Nxe6,Nxe6,Qe7,Bg5,Kg8,Nxg7', 'Qe1+,Qf1,Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/jlMhF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jlNrO', 'Blitz', 'FM Konek_Gorbunok', 2371, 'manukyan7677', 1997, 'd4,d5,Nf3,Bf5,g3,e6,Bg2,Nf6,O-O,Be7,c4,c6,Nc3,O-O,Nh4,Bg6,Nxg6,hxg6,e4,dxe4,Nxe4,Nxe4,Bxe4,Nd7,Be3,Nf6,Bf3,Qc7,Qb3,Qb6,Qxb6,axb6,Rfd1,Ra4,b3,Ra3,Bc1,Ra6,a4,b5,cxb5,cxb5,Be2,Rd6,Bxb5,Rdd8,Bf4,Nd5,Be5,f6,Bf4,g5,Be3,Bb4,Bc4,Nxe3,Bxe6+,Kh7,fxe3,Kg6,g4,b6,Bf5+,Kf7,Rac1,Rfe8,Kf2,Re7,Bd3,Rde8,Bc4+,Kg6,Rd3,Re4,Kf3,f5,gxf5+,Kxf5,Rg1,g4+,Kf2,Rh8,Rg2,Bd6,Rd2,Kg5,Bd3,Re6,Kg1,Reh6,Bc4,Rh3,Rde2,Re8,Bd5,Rhxe3,Rxe3,Rxe3,Bc4,g6,d5,Rf3,Re2,Kf4,Kg2,g3,Re6,Rf2+,Kg1,Bc5,hxg3+,Kxg3,Rxg6+,Kh4,Kh1,Rd2,Rg2', 'Rd1+,Kh2,Bd6+', 'https://lichess.org/training/jlNrO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jLoEW', 'Blitz', 'a-piece-of-art', 1905, 'NoisySquid', 1949, 'e4,e5,Nf3,Nc6,Bc4,Bc5,h3,Nf6,d3,d6,O-O,h6,Be3,Bb6,Bxb6,axb6,Re1,O-O,d4,exd4,Nxd4,Nxd4,Qxd4,Re8,Nc3,Be6,Bxe6,Rxe6,Nd5,c6,Nxf6+,Qxf6,Qxb6,Re7,a4,Ra6,Qb3,Qd4,Rad1,Qxa4,Qxa4,Rxa4,Rxd6,Raxe4,Rxe4,Rxe4,Rd7,Rb4,b3,Rb5,f3,Rc5,Rd2,f6,Kf2,Rd5', 'Rxd5,cxd5,Ke3,Kf7,Kd4', 'https://lichess.org/training/jLoEW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jlowR', 'Blitz', 'mohsultan', 2311, 'FM broskall6', 2434, 'd4,b6,c3,Bb7,Nf3,f5,Bf4,Nf6,e3,e6,Bd3,Bd6,Nbd2,Bxf4,exf4,O-O,Ne5,Bxg2,Rg1,Bb7,Qe2,Qe7,O-O-O,d6,Nef3,c5,Bxf5,Bd5,c4,Bxf3,Nxf3,Re8,d5', 'exf5,Qxe7,Rxe7', 'https://lichess.org/training/jlowR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JlPax', 'Rapid', 'MSchenkHH', 1783, 'kollege', 2030, 'e4,e5,f4,exf4,Nf3,d6,Bc4,g5,O-O,g4,d4,gxf3,Qxf3,Nf6,Bxf4,Bg7,Nc3,Nc6,Nd5,Nxd5,Bxd5,Bxd4+,Kh1,Be6,Bxe6,fxe6,Bh6,Qe7', 'Qh5+,Kd7,Rf7', 'https://lichess.org/training/JlPax');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JlPjW', 'Rapid', 'Leoadwaith', 2025, 'karthiksriram07', 1884, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bb5,Nf6,O-O,Bg4,Re1,e6,h3,Bxf3,Qxf3,Be7,Nc3,O-O,Be3,Qb6,Rad1,Rac8,Qg3,Kh8,Rd3,Nb4,Rd2,Rxc3,bxc3,Ne4,Qe5,Qxb5,cxb4,Nxd2,Bxd2,Bf6,Qd6,Rc8,c3,Qc4,Bf4,Qxc3', 'Rc1,Qxc1+,Bxc1', 'https://lichess.org/training/JlPjW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JLRVo', 'Blitz', 'DoublePapa024', 1607, 'sansekai', 1713, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,Nc3,Nf6,Bg5,Be7,e5,Ng8,Bxe7,Qxe7,O-O-O,f6,exf6,Nxf6,Bb5,a6,Ba4,b5,Bb3,O-O,Rhe1,Kh8,Nd5,Nxd5,Bxd5', 'Qg5+,f4,Qxd5,Qxd5,exd5', 'https://lichess.org/training/JLRVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jlTi6', 'Rapid', 'sksureshct', 1794, 'pergelcetvel', 1719, 'd4,e6,e4,d5,e5,Nc6,Nf3,h6,Bb5,Bd7,Nc3,f6,O-O,fxe5,Bxc6,Bxc6,Nxe5,Qf6,Qh5+,g6,Nxg6,Rh7,Bg5', 'Qxg5,Qxg5,hxg5', 'https://lichess.org/training/jlTi6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JlTJJ', 'Classical', 'tigger22', 1750, 'Ottoblad', 1713, 'e4,e5,f4,Qh4+,g3,Qf6,Nf3,exf4,g4,d6,h3,Nc6,Bg2,Nd4,d3,Nxf3+,Qxf3,g5,Nc3,Be6,Nb5,Kd7,O-O,h5,c3,hxg4,hxg4,Rh4,Bh3,Nh6,Nd4,Nxg4,Nxe6,Qxe6,Rf2,Be7,Rg2,Rah8,Bxg4,Rh1+,Kf2,d5,Bxe6+,fxe6,exd5,e5,Qg4+,Kd8,Kf3,R8h4,Qf5,R4h3+,Ke4', 'Re1+,Re2,Rxe2+,Be3,Rexe3#', 'https://lichess.org/training/JlTJJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jLTYt', 'Classical', 'zaldi-21', 2001, 'andreastampubolon', 2024, 'e4,d5,exd5,Nf6,d4,Bg4,Be2,Bxe2,Nxe2,Qxd5,O-O,Nc6,b3,O-O-O,Bb2,e5,c4,Qd6,d5,Ne7,Nbc3,c6,dxc6,Nxc6,Qxd6,Bxd6,Rfd1,Bc5,a3,Bd4,Rab1,Rhe8,b4,Ng4,Nxd4,Nxd4,h3,Nf6,Kf1,Kc7,Ne2,Nxe2,Rxd8,Kxd8,Kxe2,Ke7,Bxe5,Ke6,Bb2,Kf5+,Kf3,Ne4,Rd1,Ng5+,Kg3,f6,f3,Re2,Bc3,Ke6,Rd2,Re3,Bb2', 'Ne4+,Kf4,Nxd2,Kxe3,Nxc4+,Kd3,Nxb2+', 'https://lichess.org/training/jLTYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JLuRy', 'Classical', 'gualvim', 2036, 'Ouroboros992', 1918, 'Nf3,Nf6,d4,b6,c4,Bb7,Nc3,e6,Bg5,Be7,e3,c5,Bd3,Nc6,O-O,h6,Bxf6,Bxf6,d5,Nb4,e4,Nxd3,Qxd3,Qb8,Rad1,exd5,exd5,O-O,Rfe1,a6,Re2,Qf4,Rde1,b5,cxb5,axb5,Re4,Qf5,Qxb5,Bxd5,Nxd5,Qxd5,R4e2,Rxa2,Rd2,Qa8,Qxc5,Rc8,Qd6,Ra1,Rxa1', 'Qxa1+,Rd1,Rc1', 'https://lichess.org/training/JLuRy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JLvI3', 'Classical', 'Delpire', 1705, 'rederik79', 1744, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,g6,Bc4,Nb6,Bb3,Bg7,a4,dxe5,a5,N6d7,Bxf7+,Kxf7,Ng5+,Kg8,Qf3,Qe8,Qd5+,e6,Qb3,Nf8,O-O,h6,Ne4,Na6,f4,exd4,f5,Be5,Bf4,gxf5,Bxe5,fxe4,Nd2,Nc5,Rxf8+,Qxf8,Qg3+,Kh7,Rf1,Qe7,Bxh8,Kxh8,Qe5+,Kh7,Nxe4,Nxe4,Qxe4+,Kg8', 'Qg6+,Qg7,Qe8+', 'https://lichess.org/training/JLvI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JlVTN', 'Rapid', 'Guarani-RD', 1837, 'mi_elo_es_1000', 1845, 'h3,e5,g3,d6,e3,Nc6,d3,Be6,a3,Qd7,b3,Nf6,Bg2,O-O-O,Ne2,d5,Bb2,Bd6,Nd2,Rhe8,f3,e4,f4,exd3,cxd3,Bf5,Nf1,h5,b4,d4,e4,Nxe4,dxe4,Bxe4,Bxe4,Rxe4,Qd3,Rde8,Rh2,Re3,Nxe3,Rxe3,Qd2,Qe6,O-O-O,d3,Nd4,Qc4+,Qc3', 'd2+,Rhxd2,Rxc3+', 'https://lichess.org/training/JlVTN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jlw1W', 'Rapid', 'Mlunguu', 1894, 'lytznisan', 2038, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nf6,c3,a6,Ba4,d6,Bc2,Bg4,h3,h5,a3,Ba7,Re1,Qe7,d4,O-O-O,Qd3,Bxf3,Qxf3,exd4,Bg5,Ne5,Qf5+,Kb8,cxd4,Bxd4,Nc3,c6,Rad1,Ba7,Kf1,Qe6,Qf4,Qc4+,Kg1,a5,Kh1,Qc5,Bxf6,gxf6,Qxf6,Rdg8,Rxd6,Ng4,hxg4,hxg4+,Kg1,g3,Rd2,Qh5,Kf1,gxf2,Rxf2,Rxg2,Rxg2,Qh1+,Ke2,Qxg2+,Kd1,Rc8,Kc1,Bb6,Kb1,Rd8,Qf4+,Ka7,Na4,Bf2,Re2', 'Qf1+,Ka2,Qxe2', 'https://lichess.org/training/Jlw1W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jLx1w', 'Rapid', 'Tanphu', 1646, 'PoeticEmperor', 1736, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Nc6,Nf3,Qxe2+,Bxe2,Bg4,h3,Bxf3,Bxf3,e6,O-O,Rb8,a3,Nd4,Be4,f5,Bd3,Be7,Nb5,c6,Nxd4,Nf6,b4,Nd5,c4,Bf6,Bb2,Nf4,Bc2', 'Bxd4,Bxd4,Ne2+,Kh2,Nxd4', 'https://lichess.org/training/jLx1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JlXu5', 'Blitz', 'damtew', 1571, 'Spetsnazzerg', 1647, 'd4,d5,c4,e6,cxd5,Qxd5,Nc3,Bb4,Bd2,Bxc3,bxc3,Nc6,Nf3,Nf6,e3,e5,c4,Qd6,dxe5,Nxe5,Nxe5,Qxe5,Be2,Be6,O-O,O-O-O,Qc2,Ne4,Bc1,Qxa1,Qxe4,Qxa2,Bf3,c6,h3,Bxc4,Re1,Bd5,Bg4+,Be6,Qe5,Bxg4,hxg4,f6,Qf5+,Kb8,e4,Qf7,Bf4+,Ka8,Ra1,g6', 'Rxa7+,Kxa7,Qa5#', 'https://lichess.org/training/JlXu5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JlYoX', 'Rapid', 'VAFAEV', 1658, 'kwstaskats', 1625, 'e4,c5,Bc4,e6,e5,d5,Bb5+,Nc6,Bxc6+,bxc6,Nf3,g6,O-O,Bg7,d4,cxd4,Qxd4,Qc7,Re1,Ne7,g4,a5,Nc3,Ba6,Na4,Bb5,Nc5,O-O,a4,Ba6,b3,f6,Nxe6,fxe5,Nxc7,exd4,Nxa8,Rxf3,Rxe7,d3,cxd3,Bxa1,Be3,Bxd3,Bh6,Bd4', 'Re8+,Kf7,Rf8+,Ke7,Rxf3', 'https://lichess.org/training/JlYoX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jLz06', 'Rapid', 'aleksey2015', 1617, 'prussiano', 1606, 'd4,d5,c4,e6,c5,c6,b4,Be7,Nf3,Nf6,Nc3,O-O,Bf4,Nbd7,e3,Re8,Bd3,Nh5,Bg3,g6,h4,Nxg3,fxg3,Bf6,Kf2,e5,dxe5,Nxe5,h5,Ng4+,Kg1,Bxc3,Rc1,Nxe3,Qb3,Bd4,Nxd4,Qg5,hxg6,fxg6,Rh2,Ng4,b5,Qxc1+,Bf1,Qxc5,Qd3,Nxh2,Kxh2,Bd7,Nf3,Re3,Qb1,Rae8,Bd3,Rxd3,Qxd3,cxb5,Ng5,Bf5,Qf3,Qe3,Qxd5+,Kg7', 'Qf7+,Kh6,Qxh7+,Kxg5,Qh4#', 'https://lichess.org/training/jLz06');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jlZPF', 'Rapid', 'sammybeliz', 1893, 'dicoga', 1813, 'b3,e5,Bb2,Nc6,c4,Qg5,Nf3,Qf6,Nc3,e4,Na4,Qf4,g3,Qh6,Ne5,Bb4,Nxc6,Qxc6,Bxg7,e3,f3', 'Bxd2+,Qxd2,exd2+', 'https://lichess.org/training/jlZPF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jM0Db', 'Rapid', 'Rouhan', 1729, 'player10102', 1741, 'd4,d5,Bf4,Nf6,c4,c6,e3,Bg4,Nf3,Nbd7,Be2,e6,Nbd2,Bb4,a3,Be7,h3,Bh5,O-O,O-O,c5,b6,b4,a5,Ne5,Bxe2,Qxe2,axb4,axb4,Nxe5,Bxe5,bxc5,bxc5,Nd7,Bg3,Re8,Ra6,Qc8,Rfa1,Rxa6,Rxa6,Nf8,Ra7,Ng6,Qf3,h6,Bd6,Nh4,Qf4,Ng6,Qf3,Qd8,Nb3,Rf8,Na5,Bxd6,cxd6,Qxd6,Ra6,Rc8,Qe2,Kf8,Nb7,Qe7,Nc5,Qg5,Ra7,Nh4,f3,Nf5,f4,Qg3,e4,Nxd4,Qf2,Qc3,Nd7+,Kg8,exd5,cxd5,Ne5,Rf8,Kh2,Nf5,g4,Nd6,Nd7,Rd8,Ne5,f6,Ng6,Ne4,Qg2,Kh7,f5,exf5,gxf5,h5,Ne7,d4', 'Qg6+,Kh8,Qxh5#', 'https://lichess.org/training/jM0Db');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jM16r', 'Rapid', 'Ricky27', 2147, 'r_rafailovv', 2243, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Be3,Bxe3,fxe3,O-O,a3,d5,exd5,Nxd5,Bxd5,Qxd5,O-O,Bg4,Qd2,Rad8,Qf2,Qb5,b3,Qc5,Nbd2,Qxc2,Qg3,Bxf3,Nxf3,f6,Nh4,Qxd3,Nf5,Qd7,Rad1,Qxd1', 'Qxg7#', 'https://lichess.org/training/jM16r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jM4uz', 'Rapid', 'oualidlmt1', 1844, 'Hviktor1971', 1992, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,Re1,O-O,d3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,Bxf2+,Kxf2,Qf6+,Qf3,Qxe5,Qxd5,Qf6+,Qf3,Qd4+,Kf1,Bd7,Nc3,Bc6,Bd5,Rae8,Bxc6,bxc6,Bd2,Re6,Ne4,Qxb2,Qd1,Qe5,Kg1,f5,Bc3,Qd5,Nd2', 'Qc5+,Bd4,Qxd4+', 'https://lichess.org/training/jM4uz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jM8kB', 'Rapid', 'Voron229', 1815, 'erka92', 1798, 'e4,c5,Nf3,Nc6,Bc4,h6,a3,d6,Nc3,Nf6,Bb5,Bd7,d3,e5,h3,Be7,Nd5,O-O,g4,a6,Ba4,b5,Bb3,Nxd5,Bxd5,Rc8,h4,Bxg4,Rg1,Qd7,c3,Bxh4,Qd2,Bxf3', 'Qxh6,Bxf2+,Kxf2', 'https://lichess.org/training/jM8kB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JmAqh', 'Rapid', 'zashem', 1965, 'kian55', 1980, 'd4,c6,Bf4,d5,e3,f5,Nf3,Nf6,h3,e6,Nbd2,Bb4,c3,Ba5,Qc2,O-O,Rg1,Nbd7,g4,Ne4,gxf5,exf5,Bh6,Rf7,Nxe4,fxe4,Ng5,gxh6', 'Ne6+,Kh8,Nxd8', 'https://lichess.org/training/JmAqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jmb1Q', 'Rapid', 'altynai2016', 2085, 'Eugene_02130', 1717, 'd4,Nf6,c4,e6,Nf3,d5,g3,Nbd7,Bg2,c5,O-O,Be7,Qc2,cxd4,Nxd4,Ne5,cxd5,Nxd5,Rd1,O-O,Nc3,Nb4,Qb3,Qe8,a3,Nd5,Nxd5,exd5,Bxd5,Rb8,Bf4,Bf6,Rac1,Bd7,Rc7', 'Ba4,Qe3,Bxd1', 'https://lichess.org/training/Jmb1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jMBrS', 'Rapid', 'ofkursunlu', 1616, 'AliensruleEarth', 1793, 'e4,d6,d4,c6,c4,b6,Nc3,Nd7,Nf3,Qc7,d5,c5,Nb5,Qd8,Bf4,a6,Nc3,h6,e5,g5,Bg3,dxe5,Nxe5,f6,Bd3,Nxe5,Bxe5,fxe5,Bg6+,Kd7,Bf5+,Kc7,d6+,exd6,Nd5+,Kb7,Be4,Ka7,Qb3,Bb7,a4,Nf6,a5,Nxe4,axb6+,Kb8,Nc7,Qf6,O-O,Nd2,Qd3,Nxf1,Qxf1,a5,Nxa8,Bxa8,Rxa5,e4,Qa1,Bb7', 'Ra8+,Bxa8,Qa7+,Kc8,Qc7#', 'https://lichess.org/training/jMBrS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jMcBz', 'Rapid', 'aogorek', 2008, 'elkster', 2010, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Be2,Nf6,Bf3,c6,d3,Bf5,Nge2,e6,Ng3,Bg6,O-O,Be7,Nce4,Nxe4,Nxe4,Qc7,b3,O-O,Bb2,Nd7,Qd2,Nf6,Nxf6+,Bxf6,Bxf6,gxf6,Qh6,Qe5,h4,Qd4,h5,Bf5,g4,Bxg4,Be4,f5,Bg2,Qg7,Qe3,Bxh5,Kh1,Kh8,Rg1,Qf6,Qh3,Bg4,Qh2,Rg8,f3,Rg6,fxg4,Rh6,Bh3,fxg4,Rxg4,Qxa1+,Kg2,Qd1,Qe5+,f6,Qe3,Qxc2+,Kg3,Rg6,Rxg6,hxg6', 'Qh6+,Kg8,Bxe6#', 'https://lichess.org/training/jMcBz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jMD3g', 'Rapid', 'ebrahim2000', 1631, 'caduzon', 1799, 'd4,d5,Bf4,Nc6,c3,f6,e3,e5,dxe5,fxe5,Bg3,Nf6,Bb5,Bd7,Bh4,Be7,Bxf6,Bxf6,Qxd5,Qe7,Nf3,O-O-O,Bxc6,Bxc6,Qa5,Kb8,Nbd2,Qd6,O-O-O,Qe6,e4,g5,h3,g4,hxg4,Qxg4,Nxe5,Bxe5,Qxe5,Rde8,Qd4,Qxg2,Rhg1,Qh3,Rg3,Qh6,Rdg1,Bxe4', 'Qxh8,Rxh8,Rg8+,Qf8,Rxf8+,Rxf8,Nxe4', 'https://lichess.org/training/jMD3g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jmd52', 'Rapid', 'Mr_Private', 1668, 'Gabrielhist', 1669, 'e4,c5,Nf3,e6,d4,Nf6,Bg5,h6,Bxf6,gxf6,e5,f5,d5,exd5,Qxd5,Nc6,Bb5,Qa5+,Nc3,a6,Bc4,Rh7,O-O,Ne7,Qd3,b5,Bd5,c4,Qd4,Nxd5,Qxd5,Rb8,Nd4', 'Bb7,Nxf5,Bxd5', 'https://lichess.org/training/Jmd52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jMdPr', 'Blitz', 'shnyhay', 1700, 'chaosgrenade', 1713, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,h6,Ne4,Nd5,O-O,Be7,Nbc3,Nf4,Be2,O-O,d3,Nxe2+,Qxe2,Bb7,Bd2,f5,Ng3,Bd6,Qh5,Qf6,a3,Ba6,Nce4,fxe4,Nxe4,Qd8,Nxd6,Qxd6,Bxa5,Rab8,Bc3,Rbe8,Rfe1,Qf6,Qe2,Qf5,Bxe5,c5,c4,Bb7,Qe3,Rxe5,Qxe5', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/jMdPr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JmdRk', 'Classical', 'agetro479', 2026, 'bigphil', 1928, 'd4,Nf6,f4,d5,Nf3,Bf5,Nbd2,e6,e3,Nbd7,Be2,Bd6,O-O,Qe7,c3,h6,b4,g5,Ne5,gxf4,exf4,Rg8,Bh5,Bxe5,fxe5,Nxh5,Qxh5,O-O-O,a4,Bg6,Qf3,h5,a5,h4,a6,b6,Ba3,Qg5,c4,Be4', 'Nxe4,dxe4,Qxe4,Qxg2+,Qxg2,Rxg2+,Kxg2', 'https://lichess.org/training/JmdRk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jMGDm', 'Rapid', 'KekM8ed', 1887, 'Stevieboy', 1894, 'e4,e6,c4,d5,exd5,exd5,cxd5,Nf6,Bb5+,Nbd7,Nc3,Be7,d4,O-O,Nf3,Nb6,O-O,Nfxd5,Qc2,c6,Bd3,h6,Ne5,Nb4,Bh7+,Kh8,Qb1,Qxd4,Re1,Bf6', 'Nxf7+,Rxf7,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/jMGDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmgUM', 'Rapid', 'nakonako', 1711, 'Chessnyi', 1897, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,e3,Nbd7,Nf3,Qa5,Bxf6,Nxf6,Bd3,dxc4,Bxc4,b5,Bd3,Nd5,O-O,b4,Nxd5,cxd5,Ne5,Bd6,Nf3,O-O,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,f5,Qh4,Bd7,f4,Rh8,Qg3,Kf6,b3,Rac8,Nf3,Rh5,Nh4,g5', 'fxg5+,Rxg5,Qxd6', 'https://lichess.org/training/jmgUM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JmhS9', 'Classical', 'Gurkaii', 1652, 'coruzo', 1617, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d5,exd5,Nxd5,Re1,f6,Nxe5,fxe5,Qh5+,g6,Rxe5+,Nxe5', 'Qxe5+,Qe7,Qxh8+', 'https://lichess.org/training/JmhS9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JmI8c', 'Bullet', 'RaptoRBee', 1971, 'jodie1966', 1975, 'd4,d5,e3,c5,c3,Nc6,f4,g6,Nf3,c4,Be2,Bg7,O-O,Bd7,Nbd2,e6,e4,Nge7,e5,O-O,b3,b5,b4,a5,Ba3,axb4,Bxb4,Nxb4,cxb4,Nf5,Nb1,Ne3,Qe1,Nxf1,Bxf1,Ra4,a3,Qb6,Qd2,Rfa8,Be2,Bf8,Bd1,Bxb4,Qb2,c3,Nxc3,Bxc3,Qxc3,Rc4,Qb3,b4,Rb1,Rxd4,Nxd4,Qxd4+,Kh1,Rxa3,Qxb4,Qe3,h3,Ra2,Qe7,Qxf4', 'Rb8+,Bc8,Rxc8+,Kg7,Qf8#', 'https://lichess.org/training/JmI8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jmif9', 'Rapid', 'jedjedjed999', 1667, 'dsynoGat', 1624, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be3,d5,e5,Nxe5,f4,Nc6,g4,Bb4,a3,Bc5', 'Nxc6,bxc6,Bxc5', 'https://lichess.org/training/Jmif9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmiW2', 'Rapid', 'LeoElo1500', 1640, 'Katris', 1699, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nf3,Qc7,Be3,Nbd7,h3,Be7,Qd2,O-O,O-O-O,Rd8,g4,Nc5,Kb1,Be6,g5,Nfxe4,Nxe4,Nxe4,Qd3,Nc5,Qc3,Rac8,h4,Qb8,Qd2,d5,Qa5,d4,Bd2,Ne4,Rhf1,Nxd2+,Rxd2,Bc5,h5,Bg4,g6,Bxh5,gxh7+,Kh8,Rh1,Bg6,Ng5,Qc7,Qxc7,Rxc7,Bd3,Bxd3,Rxd3,Re8,Rf3,f6,Ne4,Be7,Rg3,f5,Rhg1,fxe4,Rxg7,Bd6', 'Rg8+,Kxh7,Rxe8', 'https://lichess.org/training/jmiW2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmj3O', 'Rapid', 'MrMontyBurns', 1767, 'sreejithks', 1907, 'c4,c5,g3,Nc6,e4,g6,Nc3,Bg7,Bg2,d6,d3,e6,f4,Nf6,Nge2,O-O,O-O,a6,Rb1,Rb8,Be3,Qc7,f5,exf5,Nf4,fxe4,Nxe4,Ne5', 'Nxf6+,Bxf6,Nd5', 'https://lichess.org/training/jmj3O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmJAq', 'Rapid', 'JRBaars', 1795, 'gouravgagneja', 1866, 'e4,e5,d4,exd4,c3,d5,Qxd4,Nf6,Bg5,Nc6,Bxf6,Nxd4,Bxd8,Nc2+,Kd2,Nxa1,Bxc7,dxe4,Ne2,g6,Be5,Bh6+,Kd1,O-O,Ng3,Rd8+,Ke2,Bg4+,f3,exf3+,gxf3,Be6,b3,Nc2,Ne4,Bg7,Bf6,Rd5,Bg2,Bf5,Bxg7,Kxg7,Rc1,Nd4+,cxd4,Rxd4,Rd1,Rb4,Nbc3,Rc8,Nd5,Rb5,Ne7,Rc2+,Rd2,Bxe4,fxe4,Rxd2+,Kxd2,Ra5,a4,b5,Nc6,Ra6,axb5,Ra2+,Kc3,Rxg2,Nxa7,Rxh2', 'b6,Ra2,b7,Rxa7,b8=Q', 'https://lichess.org/training/jmJAq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmk9D', 'Rapid', 'lapce', 1851, 'Vincens', 1882, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Nc3,Bg7,Be3,Nf6,Bc4,Rb8,Bb3,O-O,Qd2,Bb7,Bxa7,Rc8,O-O-O,d5,exd5,cxd5,Nxd5,Ng4,f3,Bh6,Be3,Nxe3,Nxe3,Qb6,Rhe1,Rfd8,Qe2,Ba6,Qf2,Rxd1+,Kxd1,Qd4+,Kc1,Bg7,c3,Bd3,Bc2,Rxc3,bxc3,Qxc3,Qd2', 'Qa1+,Bb1,Qxb1#', 'https://lichess.org/training/jmk9D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JML1b', 'Classical', 'musicmademedense', 2085, 'perfectworld', 1821, 'Nf3,Nc6,g3,e5,Bg2,e4,Ng1,Nf6,d3,exd3,cxd3,Bb4+,Nc3,d5,Bd2,Bxc3,bxc3,Be6,Nf3,O-O,O-O,Re8,Rb1,Rb8,Qa4,Bd7,Qa3,Rxe2,Rb2,a6,Rfb1,Bg4,h3,Bxf3,Bxf3,Re6,Rxb7,Rxb7,Rxb7,Ne5,Be2,Nc4,dxc4,Rxe2,Be3,dxc4,Qc5,Ne4,Qd4,Nd6,Rb4,Qc8,Ra4,Qxh3,Qd1,Rxe3,fxe3,Qxg3+,Kf1,Qh3+,Ke2,Qg4+,Ke1,Qg1+,Ke2,Qg2+,Ke1,Qh1+,Ke2,Qc6,Rb4,Kf8,Rb8+,Ke7,Qg1,Nf5,Qg4,Qd5,Qg5+,f6,Qf4,Qd3+,Kf2,Qd2+,Kg1,Qxe3+,Qxe3+,Nxe3,Rg8,Kf7,Rc8,Nd5,Kf2,a5,Ra8,a4,Rxa4,Nxc3,Ra7,Nd5,a4,h5,a5,h4,a6,c3,Ke2,h3,Ra8,h2', 'Rh8,c2,Kd2,c1=Q+,Kxc1,h1=Q+,Rxh1', 'https://lichess.org/training/JML1b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmL6T', 'Rapid', 'hot_shower', 2345, 'Mawe2', 2303, 'e4,c5,d4,cxd4,c3,d5,exd5,Qxd5,Nf3,e5,cxd4,exd4,Be2,Bb4+,Bd2,Bxd2+,Nbxd2,Nf6,O-O,O-O,Bc4,Qd6,Re1,Nc6,Ne4,Nxe4,Rxe4,Bf5,Rh4,Rad8,g3,Ne5,Nxe5,Qxe5,Qb3,Rd7,Rd1,Rfd8,Rh5,g6,Rh4,a6,Rf4,Be6,Bxe6,Qxe6,Qxe6,fxe6,Rf6,Rd6,Re1,d3,Kf1,Kg7,Rf3,R8d7,Rd1,b5,Re3,Kf6,f4,Kf5,Kf2,Rd5,Kf3,h5,h3,R7d6,g4+,hxg4+,hxg4+,Kf6,Ke4,Rd4+,Kf3,d2,Rc3,g5,fxg5+,Kxg5,Rc5+,R6d5,Rc6,Rd3+,Ke2,Rd6,Rc8,Kxg4,Rg1+,Kf4,Rf8+,Ke5,Rg5+,Kd4', 'Rf4#', 'https://lichess.org/training/jmL6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JMM6I', 'Rapid', 'danieldignet', 1788, 'sergiokumic', 1689, 'd4,Nf6,e3,e6,Bd3,Be7,f4,O-O,Nf3,b6,O-O,Bb7,Nbd2,d5,Qe1,Nbd7,c3,Rc8,Ne5,Nxe5,fxe5,Ne8,e4,Bh4,Qe2,g6,Nf3,Be7,Bh6,Ng7,exd5,Bxd5,Qd2,c5,Ng5,Qd7,h4,c4,Bc2,f6,exf6,Bxf6,h5,Bxg5,Bxg5,Nxh5,Bh6,Rxf1+,Rxf1,Ng7,Qf4,Nf5,Bxf5,exf5,g4,Be4,gxf5,Bxf5,Qe5,Re8,Qg3,Qd5,Qc7,Qf7,Qg3,Qe6,Bd2,Kg7,Re1,Qf7,Rxe8,Qxe8,Qc7+,Qf7', 'Bh6+,Kxh6,Qxf7', 'https://lichess.org/training/JMM6I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JmMAY', 'Blitz', 'robrob99', 1690, 'chohanvijay79', 1641, 'd4,d5,c4,dxc4,Nc3,e6,Nf3,Bd7,Bg5,Be7,Bf4,Nc6,e3,Nf6,Bxc4,O-O,O-O,a6,a4,h6,Qd2,Nh5,Bg3,Nxg3,fxg3,Bg5,Nxg5,Qxg5,Ne4,Qe7,Bd3,e5,dxe5,Nxe5,Bb1,Nc4,Qd3,Nxb2', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/JmMAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmMkc', 'Rapid', 'maijor1104', 1928, 'CapaM', 1748, 'e4,e5,Bc4,c6,Nf3,d5,exd5,cxd5,Bb3,Bg4,h3,Bh5,g4,e4,gxh5,exf3,Qxf3,Nf6,d3,Be7,Bf4,Nc6,c3,O-O,Nd2,d4,c4,a5,O-O-O,a4,Bc2,Nb4,a3,Nxc2,Kxc2,b5,Ne4,bxc4,dxc4,Rc8,Nxf6+,Bxf6,Qd3,Qd5,Kb1,Qxh5,Bd6,Rfd8,c5,Be5,Qa6,Qg6+,Ka2,Bxd6,cxd6,Qxd6,Qxa4,d3,Rd2', 'Qd5+,Qb3,Qxh1', 'https://lichess.org/training/jmMkc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmMLG', 'Classical', 'Numerot', 1814, 'Flexican', 1743, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,h6,Bh4,dxc4,e3,Nc6,Bxc4,Bd6,O-O,O-O,Nc3,e5,dxe5,Nxe5,Nxe5,Bxe5,Qxd8,Rxd8,Rfd1,Bg4,f3,Be6,Bxe6,fxe6,Ne4,Nxe4', 'Rxd8+,Rxd8,Bxd8', 'https://lichess.org/training/jmMLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JMmNH', 'Blitz', 'IM Tahaned2015', 2370, 'redtom', 2336, 'd4,e6,c4,d5,Nc3,dxc4,e4,Nf6,Nf3,Bb4,Bxc4,Nxe4,O-O,Nxc3,bxc3,Be7,Ne5,Nc6,Qg4,O-O,Bh6,Bf6,Rae1,Kh8,Bf4,Nxe5,dxe5,Be7,Re3,f5,exf6,Bxf6,Rh3,e5', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/JMmNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JMnFa', 'Rapid', 'virgintiger', 1624, 'Jonaselindio', 1622, 'e4,c5,d3,Nc6,Nf3,g6,Nc3,Bg7,Be3,b6,Qc1,Nf6,Bh6,O-O,Bxg7,Kxg7,Be2,d5,e5,Nd7,Nxd5,Ndxe5,Nc3,Bb7,h3,Rb8,Qf4,Nxf3+,Bxf3,Nb4,O-O,Nxc2,Rac1,Nd4,Bxb7,Rxb7,Qe5+,Kg8,Ne4,Ne6,Kh1,Qxd3,Rcd1,Qb5,Qd5,Rbb8,Qd7,Qe2,Ng3,Qxb2,Qxe7,Qxa2,Ra1,Rfe8', 'Qxe8+,Rxe8,Rxa2', 'https://lichess.org/training/JMnFa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JMPeg', 'Rapid', 'defender_of_cats', 1971, 'Grzybiarz85', 1975, 'b4,e5,Bb2,Bxb4,Bxe5,Nf6,e3,Qe7,Bb2,d6,Nf3,Bg4,Be2,Nc6,O-O,O-O-O,Nd4,Nxd4,Bxd4,h5,Bxa7,b6,c3,Ba5,Bxg4+,hxg4,Na3,Kb7,Bxb6,Bxb6,Rb1,Ra8,Nc4,Rxa2,Qb3,Ra6,Ra1,Rxa1,Rxa1,Nd5,Na5+,Kc8,Qxd5,Qh4,Qf5+,Kb8,Nc6+,Kb7,Nd8+,Rxd8', 'Qd5+,c6,Qxf7+', 'https://lichess.org/training/JMPeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jmpob', 'Blitz', 'spanner-rt07', 2445, 'FM kemelgallo', 2471, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,Re1,Nc5,Bxc6,dxc6,Nxe5,Be7,d4,Ne6,c3,O-O,Nd2,c5,Ndf3,cxd4,cxd4,Bf6,Be3,c6,Qb3,Nc7,Rad1,Nd5,Bc1,Rb8', 'Nxc6,bxc6,Qxb8', 'https://lichess.org/training/Jmpob');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JMRV7', 'Classical', 'Eylull', 1676, 'Onlypersona', 1675, 'e4,e5,Nf3,f5,exf5,Qe7,Nc3,Nf6,d3,Nc6,Be2,d6,O-O,Bxf5,Bg5,O-O-O,Nd5,Qf7,Nxf6,gxf6,Bh4,Bh6,a4,Rdg8,Bg3,a5,c3,Bf4,Nh4,Bd7,Rb1,Bxg3,fxg3,Ne7,b4,axb4,cxb4,Ng6,Bh5,Qe7,Nf5,Bxf5,Rxf5,Qe6,Bg4,Ne7,Rg5,f5,Rxg8+,Rxg8,Bf3,Ng6,Qc2,f4,h3,fxg3', 'Bg4,Qxg4,hxg4', 'https://lichess.org/training/JMRV7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jMTE7', 'Blitz', 'IM DMKey', 2485, 'gonzoooo32', 2461, 'e4,c5,Nc3,g6,Nf3,Bg7,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Bc4,O-O,Bb3,a5,a4,d6,f3,Bd7,Qd2,Nxd4,Bxd4,Bc6,h4,h5,g4,e5,Be3,hxg4,Bg5,gxf3,h5,Qb6,Bxf6,Bxf6,hxg6,Bh4+,Kd1,Qd4,Rxh4', 'Qg1+,Qe1,f2', 'https://lichess.org/training/jMTE7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jMUFp', 'Rapid', 'mens86', 1635, 'MrElk', 1692, 'e4,c5,Nf3,Nc6,Bb5,Nf6,O-O,d6,e5,dxe5,Nxe5,Qb6,Bc4,Nxe5,Bxf7+,Nxf7,Qf3,Ng5,Qd3,Qd6,Qb5+,Qc6,Qc4,Be6,Qc3,O-O-O,d3,h6,Bf4,Nd5,Qe5,Nxf4,Qxf4,Nh3+,gxh3,Bxh3,Qg3,Bxf1,Kxf1,g5,Qe5,Rg8,Nc3,Qh1+,Ke2,Qxa1,Nb5,Rd7', 'Nxa7+,Kd8,Qb8#', 'https://lichess.org/training/jMUFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JMWlM', 'Rapid', 'Conde123', 1606, 'Nath15', 1667, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Nc3,Bg4,Be2,e6,O-O,Nf6,h3,Bh5,a3,Bd6,Nb5,a6,Nxd6+,Qxd6,Bg5,Ne4,c3', 'Bxf3,Bxf3,Nxg5', 'https://lichess.org/training/JMWlM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jmwpv', 'Rapid', 'bbrum', 1723, 'cpctc', 1864, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,Nc3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,Qxc6,Qd3,O-O-O,O-O,e6,Rd1,d5,exd5,Nxd5,Nxd5,Rxd5,Qe2,Bc5,Rxd5,Qxd5,Be3,Rd8,Bxc5,Qxc5,Rd1,Rd5,Rxd5,Qxd5,c4,Qd4,g3,a6,b3,h6,Qf3,f6,a4,Kc7,h4,Qe5,Kg2,Qd6,Qg4,g5,Qh5,Qf8,hxg5,hxg5,Qh7+,Kb6,Qe4,Qd6,Qg6,Qe5,Qc2,Kc5,Qd3,Qd4', 'b4+,Kxb4,Qxd4', 'https://lichess.org/training/Jmwpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jMwzE', 'Rapid', 'weble', 1701, 'fraortcan', 1644, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,f6,d3,Bc5,Qe2,Be6,Be3,Bxe3,Qxe3,Qe7,O-O,O-O-O,a3,Kb8,Nc3,h5,Nh4,Rh6,Nf5,Bxf5,exf5,g6,fxg6,Rxg6,Ne4,Qg7,g3,Ne7,h4,Nf5,Qf3,Nxh4,Qxh5,Rh8,Qd1,Qh6,Re1,f5,Nc5,Nf3+,Qxf3,Qh2+,Kf1,Qh3+,Ke2,e4,dxe4,fxe4,Nxe4,Re6,Rh1,Rxe4+,Qxe4,Qg4+,Qf3', 'Re8+,Kf1,Qxf3', 'https://lichess.org/training/jMwzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jmx78', 'Rapid', 'ardefred', 1918, 'pushparaj999', 1916, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,O-O,Bb3,h6,O-O,Nh7,Bc2,d6,h3,Bb6,Nbd2,f5,exf5,Bxf5,Ne4,Nf6,Nfd2,Nxe4,Nxe4,Bxe4,dxe4,Qh4,Qe2,Rf6,Be3,Raf8,Bxb6,axb6,f3,Rg6,Kh1,Qg3,Qf2,Qf4,Rad1,Nd8,Qd2,Ne6,Rf2,Qg3,Bb3,Kh7,Bxe6,Rxe6,Rdf1,Ref6,Qe1,Rf4,Rd2,Qg5,Rdf2,R8f6,Qd1,Qg3,b4,Rg6,a4,Rg5,b5,Rg6,Qe2,Rh4,Qd2', 'Rxh3+,gxh3,Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/Jmx78');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmXbU', 'Bullet', 'Ainz-Ooal-Gown', 2193, 'Analysis999', 2094, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bd3,cxd4,cxd4,Qb6,O-O,Nxd4,Nbd2,Ne7,Nxd4,Qxd4,Nf3,Qb6,b4,Qxb4,Rb1,Qc5,Rxb7,Nc6,Qe2,Be7,Be3,Qa5,Rfb1,Qd8,Qc2,h6,Bc5,Rc8,Bxe7,Qxe7,Qe2,O-O,h4,Rb8,Bc2,Rxb7,Rxb7,Rb8,Qd3,g6,Rxb8+,Nxb8,h5,Be8,Qe3,Kg7,Qf4,Nc6,g4,gxh5,gxh5,f5,Ba4,Nb4,Bxe8,Qxe8,Qh4,Nd3,Qf6+,Kh7,Nd4,Qg8+,Kf1,Nf4,Nxf5,Qg2+,Ke1,Qe4+,Ne3,Qb1+,Kd2', 'Qd3+,Kc1,Ne2+,Kb2,Qc3+,Kb1,Qc1#', 'https://lichess.org/training/jmXbU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JMXh6', 'Bullet', 'Zeno_29', 1583, 'herysantoso', 1593, 'd4,d5,e4,dxe4,f3,exf3,Nxf3,Nf6,Bc4,e6,O-O,Be7,Nc3,O-O,Bg5,h6,Bf4,c6,Ne5,Nbd7,Qf3,Nxe5,dxe5,Nd5,Bd3,Nxf4,Qxf4,f5,exf6,Rxf6,Qe4,Rxf1+,Rxf1,Bc5+,Kh1,Qxd3,cxd3,Bd7,a3,Be7,b4,Bf6,Ne2,Rf8,d4,a5,b5,cxb5,Qxb7,Bc8,Qxb5,a4,Qxa4,Bb7,Ng3,Bd5,Qb4,Rc8,a4,Rc2,Rg1,Bg5,Qe1,Bd2,Qe2,Ra2,Ne4,Bc3,Qb5,Bxd4,Qe8+,Kh7,Nd6', 'Bxg2+,Rxg2,Ra1+,Rg1,Rxg1#', 'https://lichess.org/training/JMXh6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmXLZ', 'Bullet', 'GiftWind', 1841, 'MaRko647', 1849, 'e4,e5,Bc4,Nf6,d3,Nc6,c3,Be7,h3,O-O,Nf3,d5,exd5,Nxd5,O-O,Be6,Bb5,Bd6,Re1,f5,Bxc6,bxc6,Nxe5,Qf6,Nxc6,Bd7,Nd4,c5,Nf3,Rfe8,Bg5,Qg6,Nbd2,Bc6,Nc4,Bc7,Nce5,Bxe5,Nxe5,Rxe5,Rxe5,Qxg5,Qb3,Rd8,g3,Kh8,Rae1,Nf4,Qf7,Nxh3+,Kh2,Qg6,Re8+,Rxe8', 'Rxe8+,Bxe8,Qf8#', 'https://lichess.org/training/jmXLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jmxz5', 'Rapid', 'amara61', 2024, 'SEbi9061', 2018, 'e4,e6,d4,d5,Nc3,Nf6,Bd3,c5,dxc5,Bxc5,e5,Nfd7,Nf3,Nc6,Qe2,O-O,Bf4,h6,Bg3,Nb4,O-O,Nxd3,cxd3,Be7,d4,b6,Rac1,a5,h3,Ba6,Nb5,f6,exf6,Nxf6,Qxe6+,Kh8,Rfe1,Bb4,Nc3,Re8,Qf5,Rxe1+,Rxe1,Qc8,Qg6,Bxc3,bxc3,Qxc3,Be5,Rf8,Rb1', 'Bd3,Qxd3,Qxd3', 'https://lichess.org/training/Jmxz5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmyBC', 'Rapid', 'cavioz', 1755, 'Fb5', 1755, 'Nf3,Nf6,c4,g6,d4,Bg7,Nc3,d6,e4,Nbd7,h3,e5,Be3,O-O,Be2,exd4,Bxd4,Nc5,Qc2,Re8,Nd2,Qe7,f3,b6,b4,Ncd7,Nd5', 'Nxd5,cxd5,Bxd4', 'https://lichess.org/training/jmyBC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jMycZ', 'Blitz', 'egisto', 1945, 'NM Foobork', 2144, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be7,Be3,Be6,Qd2,Nbd7,O-O-O,h5,Kb1,Rc8,Nd5,Bxd5,exd5,Qc7,c4,h4,Bg5,Nc5,Nxc5,Qxc5,Bd3,g6,f4,e4,Bxf6,Bxf6,Rhe1,Kf8,Rxe4,b5,Qe2,Kg7,cxb5,axb5,Bxb5,Rb8,a4,Rhc8,Qd2,Qa7,Rde1,Rc5,Re8,Rb7,f5,Rbc7,Rh8,Kxh8', 'Qh6+,Kg8,Re8#', 'https://lichess.org/training/jMycZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmYmw', 'Rapid', 'Dalgin', 1627, 'arrnoldde', 1746, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,Bd7,O-O,Nge7,a3,c4,Bc2,Ng6,b4,Be7,a4,O-O,a5,Qc7,Be3,a6,Nbd2,b6,axb6,Qxb6,Ng5,h6,Nxf7,Nh4,Nxh6+,gxh6,Bxh6,Nf5,Qg4+,Kh7,Qh5,Be8,Bxf5+', 'Rxf5,Qh3,Rh5,Qxe6,Rxh6', 'https://lichess.org/training/jmYmw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jMyWh', 'Blitz', 'FM rdarruda', 2458, 'BorisBulto', 2478, 'Nf3,d5,b3,Nf6,Bb2,c6,e3,Bf5,Be2,h6,O-O,e6,d3,Be7,Nbd2,O-O,Ne5,a5,a4,Nfd7,Ndf3,Bf6,Qc1,Nxe5,Bxe5,Nd7,Bxf6,Qxf6,Qd2,e5,Rfd1,Qd6,e4,Be6,Qc3,d4,Qd2,Bg4,Nh4,Be6,g3,Qe7,Ng2,f5,f4,c5,fxe5,Nxe5,exf5,Bxf5,Nf4,Rae8,Rf1,b6,Rae1,Qd6,Bh5,g6,Bd1,Kh7,Qg2,Bg4,h3,Bd7,Qd5,Qc7,Kh2,Bc6,Ne6,Bxd5,Nxc7,Rxf1,Rxf1,Rd8,Nxd5,Rxd5,Rf6,Nd7,Rf7+,Kg8,Re7,Kf8,Re6,Kf7,Re1,Re5,Rf1+,Ke7,Bf3,Re3,Kg2,Ne5,Bd1,g5,Kf2,Ke6,Rh1,Kf6,h4,g4,Rf1,Kg6,Kg2,Kg7,Rf4,h5,Rf5,Re1,Rxh5,Kg6,Rg5+,Kf6,Bxg4,Nxg4,Rxg4,Re2+,Kf3,Rxc2,h5,Rd2,h6,Rxd3+,Kg2,Re3', 'h7,Re8,Rg8', 'https://lichess.org/training/jMyWh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JMzhd', 'Rapid', 'Velikiyihmik', 1987, 'SergeyD52', 2023, 'e4,b6,d4,Bb7,d5,Nf6,Nc3,e6,dxe6,fxe6,e5,Nd5,Nf3,Nxc3,bxc3,Nc6,Bf4,h6,h4,Qe7,a4,O-O-O,Bd3,Qc5,Qd2,Be7,O-O,g5,Be3,Qd5,c4,Qa5,c3,Nxe5,Nxe5,Qxe5,Bd4,Qd6,Bxh8,Rxh8,h5,Qe5,Bg6,Bd6,g3,Bc5,Rad1', 'Qxg3#', 'https://lichess.org/training/JMzhd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jmZia', 'Rapid', 'ISANJU', 1728, 'ollieharris162', 1771, 'e4,e5,d3,Bc5,a3,Nf6,h3,Nc6,c3,d6,Nd2,Be6,b4,Bb6,a4,a6,Ngf3,O-O,Ng5,Qd7,Be2,d5,Nxe6,Qxe6,Bg4,Qd6,Bf3,d4,Nc4,Qe7,Nxb6,cxb6,Qc2,Rac8,Ba3,Nxb4,Bxb4', 'Qxb4,cxb4,Rxc2', 'https://lichess.org/training/jmZia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jN0Tr', 'Classical', 'Fomin753', 1607, 'MiX23rus123', 1763, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,a6,Bxc6+,bxc6,dxe5,d5,Bg5,Be7,Bxe7,Nxe7,exd5,cxd5,O-O,Bg4,h3,Bxf3,Qxf3,O-O,Nc3,c6,Ne2,Ng6,Qc3,Re8,Nd4,Nxe5,Nxc6,Nxc6,Qxc6,Qa5,Qd6,h6,c3,Re6,Qg3,Rae8,Qd3,Re2,Qb1,Qb6,b4,d4,cxd4,Qxd4,b5,axb5,Qxb5,Qa7,a4,Qd4,Qb1,g6,Qd1,Qa7,a5,Kh7,a6,R8e6,Qd3,R2e5,Qc4,Rg5,Qb3,Qa8,Qb7,Qe8,a7,Rb5,Qxf7+,Qxf7,a8=Q,Rg5,Ra7,Re7,Rxe7,Qxe7,Qa1,Qd7,Qa3,Qb7,g4,h5,Qa4,hxg4,hxg4,Qf3,Qa7+', 'Kh6,Qe3,Qxg4+', 'https://lichess.org/training/jN0Tr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jn4C3', 'Rapid', 'JerryDamon', 2229, 'ViennaWaits', 2192, 'e4,c6,Nf3,d5,d4,Bg4,h3,Bh5,e5,e6,Bd3,Nd7,g4,Bg6,h4,Qc7,h5,Bxd3,Qxd3,O-O-O,Be3,Bb4+,c3,Be7,b4,f6,Bf4,fxe5,Nxe5,Rf8,Ng6,e5,Nxf8,exf4,Nxd7,Qxd7,Qf5,Qxf5,gxf5,Nf6,Rh4,Bd6,f3,Re8+,Kf2,Re3,a4,Kd7,Ra2,Rd3,Rd2,Re3,Rh1,b6,h6,gxh6,Rxh6,Be7,Rc2,c5,bxc5,bxc5,dxc5,Bxc5,Kg2,Ke7,Rh1,Re5,Rb2,Rxf5,Rb7+,Kd6,Rf7,Rg5+,Kf1,Ke6,Rb7,Nh5,Rh2,Rg1+,Ke2,Ng3+,Kd2', 'Nf1+,Kd3,Nxh2', 'https://lichess.org/training/jn4C3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jn4ud', 'Rapid', 'Djurafigura', 1706, 'Jean-Patrick', 1690, 'd3,g6,e4,Nf6,Nf3,Bg7,Nc3,d6,d4,O-O,Bd3,Nfd7,Bg5,Nc6,a3,Nxd4,Nxd4,Bxd4,Qd2,Nc5,Be2,Bxc3,Qxc3,Nxe4,Qe3,Bf5,O-O-O,c6,h4,Qb6,Qf3,Nxf2', 'Be3,Nxh1,Bxb6', 'https://lichess.org/training/Jn4ud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JN67B', 'Rapid', 'FrereKeiser', 1796, 'Aa117', 1729, 'e4,e5,Nf3,Nf6,Nc3,Bb4,d3,d5,Bd2,Bxc3,Bxc3,d4,Bb4,Bg4,Be2,Nc6,Ba3,Bxf3,Bxf3,b5,Qd2,a5,b3,b4,Bb2,Qd6,a3,O-O,a4,Qd7,O-O,Ng4,Bxg4,Qxg4,h3,Qg6,f4,f6,f5,Qh5,Qf2,Ne7,Qf3,Qg5,Qe2,c5,Bc1,Qh4,Bd2,g6,Be1,Qh6,fxg6,hxg6,Bd2,Qh5,Qxh5,gxh5,Rf2,Kh7,Raf1,Kg6,Kh2,f5,g4,hxg4,hxg4,Rh8+,Kg3,f4+,Bxf4,exf4+,Rxf4,Ra6,Rf7,Ng8,Rc7,Nf6,Rxc5,Rg8,Rff5,Kf7,Rc7+,Ke6,Rf4', 'Nh5+,Kf3,Nxf4', 'https://lichess.org/training/JN67B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jn6qz', 'Classical', 'Kobra1997', 1677, 'freehumanity', 2032, 'f4,e5,fxe5,d6,exd6,Bxd6,g3,Nf6,Nf3,Ne4,d3,Nxg3,hxg3,Bxg3+,Kd2,Nc6,c3,Bf5,Kc2,Qd6,e4,Bg6,Nbd2,O-O-O,d4,Rhe8,Bd3,h5,b3,h4,Nc4,Qd7,Bg5,f6,Bxh4,Bf4,Qe2,Bh5,Raf1,g5,Bf2,Bg4,Rh6,Qg7,Rhh1,Rh8,a4,Rh6,e5,Rdh8,Nd6+,cxd6,exd6', 'Rxh1,Rxh1,Rxh1', 'https://lichess.org/training/Jn6qz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jn7sa', 'Rapid', 'Gustavo_Linhares', 1741, 'noblemanonline', 1768, 'e4,g6,Bc4,Bg7,Nf3,Nf6,e5,d5,exf6,Bxf6,Bb3,O-O,d4,Bg4,c3,c6,Bh6,Re8,h3,Bxf3,Qxf3,e5,dxe5,Rxe5+,Be3,d4,cxd4,Qxd4,Qxf6', 'Rxe3+,fxe3,Qxf6', 'https://lichess.org/training/jn7sa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jn94L', 'Rapid', 'chessnickname', 1804, 'lazarotti', 1815, 'd4,c6,c4,d5,Nc3,dxc4,Bf4,Bf5,e3,e6,Nf3,h6,Bxc4,Nf6,Bd3,Bxd3,Qxd3,Nbd7,a3,Be7,Ne5,O-O,Rd1,Nh5,Bg3,Nxg3,hxg3,Nxe5,dxe5,Qc7,Qc2,Qxe5,Ke2,Rad8,f4,Qc5,Qb3,b5,Rc1,Qb6,a4,b4,Ne4,a5,Qc4,c5,Nxc5,Rd5,Ne4,Rfd8,b3,f5,Nf2,Rd2+,Kf3,Qb7+,e4,fxe4+,Nxe4,R8d3+,Kg4,Re2,Qxe6+,Kh7,Ng5+,Bxg5,Qxe2,Qd7+,f5,Qd4+,Kh3,Rxg3+,Kxg3', 'Qf4+,Kh3,Qh4#', 'https://lichess.org/training/Jn94L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jn9bU', 'Classical', 'geo056', 1627, 'Thebigusy', 1730, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,Nf3,Nxe4,Be2,b6,O-O,Bb7,d3,Nd6,Re1,Qf6,Bg5,Qg6,Bf1+,Be4,Nc3,f6,Bh4,Be7,dxe4,O-O,e5,Nf5,Qd5+,Kh8,Qxa8,Nc6,Qb7,fxe5,Qxc7,Bxh4,Qxd7,Ncd4,Rxe5', 'Nxf3+,Kh1,Nxe5', 'https://lichess.org/training/Jn9bU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jN9VG', 'Blitz', 'therejoice', 1538, 'crash1995', 1621, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,b3,Bg7,Bb2,Qb6,c3,Qa5,b4,Qb6,Bc4,Nxd4,cxd4,Qxb4+,Bc3,Qxc4,Qc2,b6,Nd2,Qb5,a4,Qg5,O-O,d6,Nf3,Qh5,e5,dxe5,dxe5,Bg4,Bb4,Bxf3,gxf3,Qxf3,Rad1,Qg4+,Kh1,Qxb4', 'Qc6+,Kf8,Qxa8#', 'https://lichess.org/training/jN9VG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jncJb', 'Rapid', 'Nak_Vince', 1926, 'ankitbtech', 1883, 'e4,e5,Nc3,d6,Nf3,Nf6,d4,exd4,Nxd4,Be7,Bd3,Bd7,O-O,Nc6,Nf5,O-O,Nxe7+,Qxe7,Nd5,Nxd5,exd5,Ne5,Re1,Qd8,c4,Re8,Bf4,Nxd3,Qxd3,Qf6,Qg3,Rxe1+,Rxe1,Qxb2,h4,Qxa2,h5,Qxc4,h6,g6,Re7,Bf5,Qg5,Qc3,Rxc7,Qxc7', 'Qf6,Kf8,Bxd6+,Qxd6,Qxd6+', 'https://lichess.org/training/jncJb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jnej5', 'Blitz', 'Arnulf_Chleb', 1586, 'rick_jelier', 1734, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,Bxc3+,bxc3,b6,Nf3,Bb7,Be2,O-O,O-O,h6,Re1,Nh7,Bd3,f5,Ne5,Qg5,Nf3,Qg6,Qe2,Ng5,Ne5', 'Nh3+,Kf1,Qxg2#', 'https://lichess.org/training/jnej5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JnGBx', 'Rapid', 'Muschemer', 1682, 'gastus', 1700, 'd4,Nf6,Nf3,Nc6,d5,Nb4,Nc3,e6,dxe6,fxe6,a3,Nbd5,Nxd5,Nxd5,e4,Nf6,Bd3,d6,Ng5,e5,O-O,h6,Nf3,Bg4,h3,Bh5,Bc4,Qe7,Re1,O-O-O,Qd3,g5,Be3,Kb8,Nh2,Bg6,f3,Nd7,Qb3,Nc5,Bxc5,dxc5,Ba6,c6,Bc4,b5,Bf1,c4,Qe3,Qb7,Kh1,Bd6,b3,cxb3,Qxb3,Bc5,Rab1,Bf7,Qb2,Bd4,Qc1,a5,c3,Bf2,Re2,Bg3,a4,Bf4,Qb2,Bc4,Ree1,Rd2,Qa1,Ra2,axb5,Rxa1,Rxa1,Bxb5,Rab1,Rd8,c4,Kc7,cxb5,cxb5,Bxb5,Bd2,Red1,Bb4,Bc4,Rxd1+,Rxd1,a4,Bd5,Qa7,Ng4,a3,Rc1+,Kd6,Rc6+,Ke7,Rxh6,a2', 'Rh7+,Kd8,Rxa7', 'https://lichess.org/training/JnGBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JngEa', 'Rapid', 'brambilla-fumagalli', 1662, 'chesskev06', 1750, 'e4,e6,Nf3,d5,exd5,exd5,Qe2+,Qe7,Nc3,Nf6,d4,Bg4,Qxe7+,Bxe7,Bg5,Bxf3,gxf3,Nc6,Bxf6,Bxf6,Nxd5,O-O-O,Nxf6,gxf6,c3,Rhe8+,Be2,Rg8,O-O-O,Rde8,Bb5,a6,Bxc6,bxc6,d5,cxd5,Rxd5,Kb7,Rd4,Rg2,Rb4+,Kc6,Rf4,Re6,Rh4,Rxf2,Rxh7,Ree2,Rxf7,Rc2+,Kb1,Rxb2+,Kc1,Rxa2,Rxf6+,Kb7,Rd1', 'Ra1#', 'https://lichess.org/training/JngEa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jNgWv', 'Rapid', 'yourimagic', 1937, 'mrRanglica', 1928, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,Bf5,Nc3,e6,e3,Bb4,Qb3,Nc6,Bb5,O-O,O-O,Nxc3,bxc3,Bd6,Re1,Be4,Nd2,Bxg2,Kxg2,Qh4,Nf3', 'Qg4+,Kf1,Qxf3', 'https://lichess.org/training/jNgWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jNibk', 'Rapid', 'jalalhaidar', 2022, 'basharatullah', 1641, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,Bc4,Bg4,Bxf7+,Kxf7,Ne5+,Qxe5+,dxe5,Bxd1,exf6,Bxc2,fxe7,Bxe7,O-O,Rf8,Be3,Kg8,Rfe1,Bf6,Re2,Bd3,Rd2,Ba6,Ne4,Bb5,a4,Bc4,Rc1,b5,Bc5,Rd8', 'Nxf6+,Kf7,Rxd8', 'https://lichess.org/training/jNibk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jnkB7', 'Rapid', 'Aliwxx', 1787, 'Zcxvcz', 1787, 'd4,b6,e4,Bb7,Bd3,e6,Nf3,Nf6,O-O,Nxe4,Re1,d5,a3,Bd6,Bxe4,dxe4,Ng5,Qf6,Nxe4,Qg6,Nxd6+,cxd6,f3,O-O,c4,Nd7,Bf4,e5,dxe5,Nxe5,Bxe5,dxe5,Rxe5,Rad8,Qe2,f6,Re7,Rfe8,Rxe8+,Rxe8,Qf2,Qd3,Nd2,Re2,Qg3,Rxd2,Qb8+,Qd8,Qxb7', 'Qd4+,Kh1,Rd1+,Rxd1,Qxd1#', 'https://lichess.org/training/jnkB7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jNKj6', 'Classical', 'Askar_Jubatov', 1627, 'Nh9Nh1', 1676, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,Be7,d4,d6,d5,Nb8,Nfg5+,Bxg5,Nxg5+,Kg8,h4,h6,Nh3,Qxh4,Qd3,Qf6,Be3,Bf5,Qc4,Na6,O-O-O,Kf7,f3,Rhf8,g4,Bd7,Rhf1,Kg8,g5,Qf5,gxh6,Qxh3,Rh1,Qxf3,Bd2,Nc5,Rdg1,b5,Rxg7+,Kh8,Qh4,Ne4,Rxd7,Nxd2,Kxd2,Qxd5+,Kc1,Qf3,b3,Rf4,Rd8+,Rxd8,Qxd8+,Kh7,Qxc7+', 'Rf7,Qxd6,Qxh1+', 'https://lichess.org/training/jNKj6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jNMGV', 'Rapid', 'frag1000', 2011, 'kobelev', 1958, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,dxc4,a4,e6,Ne5,Bd6,Nxc4,Bc7,e4,a6,e5,Nd5,Qg4,g6,Bg5,Ne7,Bf6,Rg8,Ne4,Qd5,Ned6+,Kd7,Bd3,b5,Be4,Qxd4,Rd1,Qxd1+,Qxd1,bxc4,Nf5+,Nd5,Ne7,Ba5+,Kf1,Re8,Nxd5,cxd5,Bxd5,exd5,Qxd5+,Kc7,Qxa8', 'Bb7,Qa7,Bb6,Qxb6+,Kxb6', 'https://lichess.org/training/jNMGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JNmK2', 'Blitz', 'Showboater', 1673, 'Katya07', 1713, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,O-O,O-O,a6,Be3,b5,Bb3,c5,Ndxb5,axb5,Nxb5,Nxe4,Qd5,Ra5,Qxe4,Rxb5,Rfe1,Bf6,Qc4,Ra5,c3,Bb7,Rad1,Qc7,Bf4,Be5,Bxe5,dxe5,Re2,Qc6', 'Qxf7+,Rxf7,Rd8+,Qe8,Rxe8#', 'https://lichess.org/training/JNmK2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jnnL8', 'Rapid', 'Ternero', 1783, 'Norff', 1747, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e6,c4,Qc7,Be3,Nf6,Nc3,Bb4,Qc2,Nc6,Be2,Ne5,Bf4,d6,Bxe5,dxe5,Nf3,b6', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/jnnL8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JnQ1l', 'Rapid', 'Syrikat', 1810, 'vegeta_sama', 1850, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bg6,Nf3,e6,O-O,c5,c3,Nc6,Bg5,Be7,Bxe7,Ngxe7,Bxg6,hxg6,a3,c4,b4,Nf5,a4,Nh4,a5,a6,Nbd2,Nf5,Qa4,g5,b5,axb5,Qxb5,g4,a6,gxf3', 'axb7,Rb8,Qxc6+', 'https://lichess.org/training/JnQ1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jNs3g', 'Rapid', 'kamaleon2016', 1732, 'METER11', 1725, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,c4,Qe4,d3,Qg6,O-O,e6,Bf4,Bxf3,Bxf3,Bd6,Bxd6,cxd6,Qa4,O-O,Bxc6,bxc6,Qxc6,Qxd3,Rad1,Qc2,Rb1,Rfd8,Rfc1,Qd2,a3,a5,b4,axb4,axb4,Ra2,Qb6,Rda8,h3,h6,Rd1,Qc3,Rxd6,Qxc4,Rd8+,Kh7,Rxa8,Rxa8,Qb7,Ra4,b5,Qc2,Rf1,Qb3,b6,Rb4,Qxf7,Rxb6,Rc1,Rb7,Rc7', 'Qd1+,Kh2,Qd6+', 'https://lichess.org/training/jNs3g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jntjw', 'Rapid', 'werdna2020', 1694, 'Aficionado_x', 1655, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kxf2,Nxe4+,Ke3,Qh4,g3,Nxg3,hxg3,Qxc4,Nxh8,Qd4+,Ke2,d5,c3', 'Bg4+,Ke1,Qe4+', 'https://lichess.org/training/Jntjw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jnTpF', 'Blitz', 'titr', 1640, 'SKR97', 1953, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,d4,cxd4,cxd4,Bg4,Nbd2,Nxd4', 'Qa4+,Bd7,Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/jnTpF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jNtuL', 'Rapid', 'faromerocu', 1722, 'dhiegommbatista', 1695, 'Nf3,d5,d4,Nc6,b3,e5,Bb2,e4,Ne5,Bd6,Nxc6,bxc6,e3,Ne7,Nc3,Be6,f3,f5,fxe4,fxe4,Qh5+,Ng6,O-O-O,O-O,Qe2,Qd7,Qe1,a5,h4,c5,h5,Ne7,dxc5,Bxc5,Nxe4,Bb6,h6,g6,Nf6+,Rxf6,Bxf6,a4,e4,axb3,axb3,Ra1+,Kb2,Ra8,exd5,Nxd5,Bc4,c6,Qe5,Qa7,Bxd5,Bxd5,Rxd5,Qa3+,Kc3,Ba5+,Rxa5,Rxa5,Qe6+,Kf8,Qc8+,Kf7,Qxc6', 'Rc5+,Qxc5,Qxc5+,Kb2,Kxf6', 'https://lichess.org/training/jNtuL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jNTzc', 'Rapid', 'sergey3737', 1905, 'KnightR', 1818, 'd4,d5,e3,Nf6,c4,c6,Qb3,Qc7,Nc3,Bf5,cxd5,Nxd5,Nxd5,cxd5,Qxd5,e6,Qb5+,Nc6,Nf3,a6,Qa4,Bd6,Be2,O-O,O-O,b5,Qd1,e5,dxe5,Nxe5,Nxe5,Bxe5,f4,Rad8,Qe1,Bd6,Bf3,Rfe8,Bd2,Bxf4,g3,Be5,Ba5,Qe7,Bxd8,Rxd8,Rd1,Rxd1,Bxd1,Bh3,Rf2,g6,Bb3,Be6,Bxe6,Qxe6,b3,h5,Qc1,Qd5,Rd2,Qe4,Rd8+,Kg7,Re8,Qd5,Kf2,h4,Qc2,hxg3+,hxg3,Qh1,Ke2,Qg2+,Kd3,Qxg3,Qc5,Bf6,Qf8+,Kh7,Qxf7+,Bg7,Re7,Qd6+,Ke2,Qh2+,Qf2,Qd6,Qh4+,Kg8,Re8+,Bf8,Qg4,Qh2+,Kd3,Qd6+,Kc2', 'Qc6+,Kd3,Qxe8', 'https://lichess.org/training/jNTzc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JNUtP', 'Rapid', 'Aleks_17', 1866, 'JPTriton', 1918, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bg5,h6,Bh4,Bf5,Bd3,Qxd4', 'Bb5+,Qd7,Bxd7+', 'https://lichess.org/training/JNUtP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jNw5v', 'Rapid', 'endo07', 2148, 'GrandpaChess', 1969, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,e6,e3,Bd6,Bxd6,Qxd6,f4,Nf6,Nf3,Ne4,Nc3,Nxc3,bxc3,O-O,Bd3,Nc6,O-O,Bd7,Ne5,Ne7,c4,dxc4,Nxc4,Qd5,Ne5,Bc6,Nxc6,Qxc6,Rc1,Qd5,Rc7,Nf5,Qf3,Qxa2,Bxf5,exf5,Qxb7,a5,Qb5,Qd2,Qe5,a4,Rcc1,a3,Rfd1,Qe2,d5,a2,d6,h6,d7,Rfd8,Ra1,Kf8,Qc5+,Kg8,Kh1', 'Qxd1+,Rxd1,a1=Q', 'https://lichess.org/training/jNw5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jNwEc', 'Rapid', 'netludek', 1741, 'grebnesaur', 1752, 'f4,d5,Nf3,Bf5,e3,Nf6,Nc3,e6,Bd3,Bxd3,cxd3,Bd6,d4,O-O,O-O,Nc6,d3,Qd7,e4,dxe4,dxe4,Bb4,e5,Nd5,Nxd5,Qxd5,a3,Ba5,Be3,Bb6,Qd3,Na5,Bf2,Nc4,Ng5,g6,Qh3,h5,Nf3,Nxb2,Qh4,c6,Qg5,Bd8,Qh6,Nd3,Bh4,Bxh4,Nxh4,Qxd4+,Kh1,Nf2+,Rxf2', 'Qxa1+,Rf1,Qxf1#', 'https://lichess.org/training/jNwEc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jnx5S', 'Blitz', 'Jager90', 2495, 'IM mabumba', 2416, 'e4,e5,Nf3,Nc6,Nc3,g6,d4,exd4,Nxd4,Bg7,Be3,Nge7,Qd2,O-O,O-O-O,Ne5,Bh6,d5,Bxg7,Kxg7,exd5,a6,f4,Ng4,h3,Nf6,g4,Nfxd5,Bg2,c6,f5,Qd6,Ne4,Qe5,Rhe1,Ng8,Kb1,Qf4,Qe2,Re8,Rf1,Qe5,Qf3,Ngf6,Nxf6,Qxf6,Rde1', 'Rxe1+,Rxe1,Qxd4', 'https://lichess.org/training/jnx5S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jNX61', 'Blitz', 'DrEverNever', 2006, 'garbolate', 2012, 'e4,c5,Nf3,Nc6,Be2,g6,d3,Bg7,Nc3,d6,h4,e6,h5,Nf6,hxg6,hxg6,Rxh8+,Bxh8,Bg5,Qb6,Kd2,Qxb2,Rb1,Qa3,Qh1,Bg7,Qh4,Nh5,g4,Qxc3+,Kc1,Qa3+,Kd1,Qxa2,Rc1,f6,gxh5,fxg5,Qxg5,e5,Qxg6+,Kf8,Ng5,Ne7,Nh7+,Kg8', 'Nf6+,Kh8,Qh7#', 'https://lichess.org/training/jNX61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JNXZJ', 'Bullet', 'hering', 1742, 'Thomas_L', 1794, 'e3,e5,a3,d5,h3,c5,b3,Nc6,Bb2,Bd6,Be2,Nf6,d3,Bf5,Nd2,Qc7,Ngf3,O-O,Nh4,Bg6,Nxg6,fxg6,O-O,e4,dxe4,Nxe4,Nxe4,dxe4,Bc4+,Kh8,Qe2,Ne5,Rad1,Qe7,Rd5,Nf3+,gxf3,exf3,Qd3,Qh4,Rxd6', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/JNXZJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jnZBI', 'Rapid', 'OldBill', 1641, 'r-m', 1733, 'd4,e6,e4,c5,d5,exd5,exd5,d6,Nf3,h6,c4,Qa5+,Bd2,Qb6,Qc2,Nf6,Nc3,Be7,Be2,O-O,O-O,Re8,Na4,Qd8,b4,b6,Rab1,Bg4,Nc3,cxb4,Rxb4,Na6,Rb2,Nc5,Bf4,Nh5,Be3,Bg5', 'Nxg5,hxg5,Bxg4', 'https://lichess.org/training/jnZBI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jNzPA', 'Rapid', 'Gr8BanterM8', 1618, 'Vladimir-1', 1814, 'c4,e5,Nc3,Nf6,e3,Bb4,Qb3,Bxc3,Qxc3,O-O,g3,d6,Bg2,c6,Ne2,Be6,b3,Qd7,d4,e4,Nf4,Bf5,O-O,Re8,Bb2,d5,cxd5,cxd5,Rac1,Nc6,Ba3,Rac8,Bc5,Ne7,Qb4,Nc6,Qa3,Ng4,h3,Nf6,g4,Be6,g5,Nh5,Nxh5,Bxh3,Bxh3,Qxh3,Ng3,h6,g6,f5,Bd6,Re6,Bf4,Rxg6,Qc5,Rg4,Qxd5+,Kh8,Qxf5', 'Rxg3+,Bxg3,Qxf5', 'https://lichess.org/training/jNzPA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JO13U', 'Blitz', 'Rodri1000', 2052, 'hengui', 2082, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Nxc6,bxc6,Bd3,O-O,O-O,d5,exd5,cxd5,Bd4,Re8,Re1,Bb7,Qd2,e6,Re3,Ne4,Bxg7,Kxg7,Nxe4,dxe4,Qc3+,Kg8,Bxe4,Bxe4,Rxe4,Rc8,Rc4,Rxc4,Qxc4,Qd2,Qa4,Rd8,h3,Rc8,Qxa7,Rxc2,a4,Rxb2,a5,e5,a6,Qd8,Qe3,Rb8,Qxe5,Ra8,Qb5,Qc7,Qb7', 'Qxb7,axb7,Rxa1+,Kh2,Rb1,b8=Q+,Rxb8', 'https://lichess.org/training/JO13U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jo16v', 'Blitz', 'draw_with_white', 1816, 'philippe941', 1726, 'e4,e6,Nf3,d5,Nc3,Nf6,e5,Nfd7,Bb5,c6,Ba4,g6,d4,Bg7,Nd2,O-O,f4,b6,Nf3,Ba6,Ne2,b5,Bb3,Qa5+,c3,Qc7,O-O,Bb7,h3,a6,g4,c5,Be3,cxd4,Bxd4,Nc6,Ng3,Nxd4,cxd4,Qb6,Rc1,Rfc8,Qd2,Rxc1,Rxc1,Rc8,Rxc8+,Bxc8,h4,Bb7,h5,f6,hxg6,hxg6,Nh4,fxe5,fxe5,Nxe5,Qg5,Qxd4+,Kh2,Nxg4+,Kh3,Nf2+,Kg2,Qxb2,Qd8+,Kh7,Kf1,Ne4,Nxe4,dxe4,Ng2,e3,Qh4+,Kg8', 'Bxe6+,Kf8,Qd8#', 'https://lichess.org/training/Jo16v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jo1Nt', 'Rapid', 'ramonescribabordes', 1637, 'fearofadankplanet', 1643, 'd4,Nf6,Nc3,g6,e4,Bg7,e5,Nh5,Be2,Nf4,Bxf4,d6,exd6,cxd6,Qd2,Nc6,Bb5,Qb6,Bxc6+,bxc6,Na4,Qxd4,Qxd4,Bxd4,c3,Bg7,Nf3,O-O,O-O,Rb8,Rfe1,e5,Be3,a5,Ng5,Bf5,Nb6,h6,Nf3,d5,Nh4,Be6,Na4,d4,cxd4,exd4,Bd2,Rb5,Rab1,Bxa2,Rbc1,Rc8,Nf3,c5,Ne5,Bb3,Rc4,Bxc4,Nxc4,d3,Nd6,Rcb8,Nxb5,Rxb5,g3,Bxb2,Nxb2,Rxb2,Bxa5,c4,Rd1,Rc2,Kf1,Kg7,h3,Kf6,f3,Ke5,Bb6,Kd5,Ke1,Rb2,Ba5,Kd4,Rc1,Ke3,Rxc4', 'Rb1+,Rc1,Rxc1#', 'https://lichess.org/training/jo1Nt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jo2po', 'Rapid', 'paWn-Structure', 1884, 'Estudiemas', 2038, 'e3,e5,Nc3,d5,Nf3,Nc6,Bb5,Bd6,Nxd5,Bd7,e4,a6,Be2,h6,d3,Be6,Be3,Nf6,c4,Bxd5,cxd5,Ne7,Rc1,O-O,h3,Ng6,O-O,Nh7,Bc5,f5,Bxd6,Qxd6,Qc2,Nf4,Rfe1,Qg6,g3,Nxh3+,Kh2,Nxf2,Nh4,Qe8,Nxf5,Nf6,Rf1,N2g4+,Kg2,Rc8,Qd2,h5,Rh1,Qf7,d6,cxd6,Rxc8,Rxc8,Nxd6,Qd7,Nxc8,Qxc8,Rc1,Qd7,Bf3,Qd4,Rc8+,Kh7,Rc4', 'Ne3+,Kh1,Nxc4', 'https://lichess.org/training/Jo2po');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jO4Xh', 'Rapid', 'elwood_', 1682, 'viktor57', 1738, 'd4,Nf6,h3,d5,Bf4,Bf5,g4,Bg6,Bg2,e6,e3,Bd6,Be5,Bxe5,dxe5,Nfd7,f4,Nc6,Nd2,Qh4+,Ke2,Qe7,Nb3,Qb4,Kf2,h5,g5,Nc5,Nxc5,Qxc5,c3,Ne7,Ne2,Nf5,Nd4,Nh4,b4,Qxc3,Nb5,Qc6,a4,Nxg2,Kxg2,Be4+,Kf2,Bxh1,Qxh1,a6,Rc1,Qb6,Nxc7+,Kd7,Nxa8,Rxa8,Qe1,Rc8,Rxc8,Kxc8,Qc3+,Qc6,Qa3,Qc2+,Kg3,Qd1,b5,Qg1+,Kh4,g6,Qf8+,Kc7,Qxf7+,Kb6,Qxe6+,Ka5,Qxg6,Qxe3,Qf7,d4,Qxb7,Qxf4+,Kxh5,Qxe5,Qxa6+,Kb4,Qa8,d3,b6,d2,Qd8', 'Qe2+,Kh6,d1=Q,Qxd1,Qxd1', 'https://lichess.org/training/jO4Xh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JO69N', 'Blitz', 'Ramithuriveen', 1612, 'mark-us', 1599, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,Bxc5,Qxd5,Qe7+,Be2,Be6,Qe4,Nf6,Qd3,O-O,Bg5,Nbd7,O-O-O,h6,Bh4,Ne5,Qg3,Rad8,Rxd8,Rxd8,Qxe5,Qd7,Bxf6,Qd2+,Kb1,Bd4,Qc7,Bxf6,a3,Bxc3,Qxc3', 'Qd1+,Bxd1,Rxd1#', 'https://lichess.org/training/JO69N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JO6ek', 'Rapid', 'Sashkin', 1925, 'fawzy_amr', 1999, 'e4,e5,f4,exf4,Nf3,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d3,Bd6,Qe2+,Kd8,Qf2,Nc6,c3,Bf5,d4,Re8+,Kd1,Na5,Nh4,Be4,Bxf4,Nb3,axb3,Qxb3+,Kc1', 'Bxf4+,Qxf4,Qc2#', 'https://lichess.org/training/JO6ek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jO8ox', 'Classical', 'Zelytic', 1766, 'Kameruni84', 1890, 'e4,c5,Nf3,Nc6,Bc4,e6,a3,a6,d3,d5,exd5,exd5,Ba2,Be7,Bf4,Nf6,Nbd2,O-O,O-O,Re8,h3,Bd6,Bg5,h6,Bh4,Be7,c3,Nh7,Bxe7,Rxe7,b4,b6,Qb3,Nf6,Rfe1,Be6,bxc5,bxc5,Qa4,Qc8,Ne5,Nxe5,Rxe5,c4,dxc4', 'Bd7,Rxe7,Bxa4', 'https://lichess.org/training/jO8ox');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jO936', 'Rapid', 'dugj', 1622, 'RxMike', 1610, 'e4,c5,Nc3,Nc6,Bb5,Nf6,d3,Nd4,Bc4,e5,Nf3,Be7,Nxe5,O-O,O-O,d6,Nf3,Bg4,Be3,Bxf3,gxf3,Nh5,Bxd4,cxd4,Nd5,Bh4,f4,Nxf4,Qg4,Nxd5,Bxd5,Rb8,f4,Rc8,Rac1,g6,Bxb7,h5,Qxc8,Qxc8,Bxc8,Rxc8,Kg2,Rb8,b3,a5,a4,Kg7,f5,Bg5,Rb1,Rc8,Rf2,Be3,Rf3,Rxc2+,Kh3,g5,b4', 'g4+,Kg3,gxf3', 'https://lichess.org/training/jO936');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jo9xq', 'Rapid', 'mangouste', 1752, 'aladin_lt', 1656, 'e4,e5,Nf3,d6,d4,Nd7,Nc3,exd4,Nxd4,Ngf6,Bg5,Be7,Bf4,O-O,Bc4,c5,Ndb5,Nb6,Be2,d5,Nc7,Nxe4,Nxa8,Nxc3,bxc3,Nxa8,O-O,Nb6,Re1,Bf6,Qd2,d4,cxd4,Bxd4,Rad1,Qf6,Rf1,Rd8,g3,Bxf2+,Rxf2,Rxd2,Rxd2,h6,Bc7,Qc3,Bd3,g5,Be4,Bh3,Bg2,Nc4', 'Rd8+,Kg7,Bxh3', 'https://lichess.org/training/jo9xq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JOa58', 'Rapid', 'Beatsa', 1872, 'VLADISCHWERIN', 1927, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nc3,Be7,Nf3,O-O,Bd3,Bg4,h3,Bh5,O-O,Nc6,Be3,Bf6,d5,Bxf3,Qxf3,Ne5,Qe2,Re8,Bxb6,axb6,Ne4,Nxd3,Qxd3,Bxb2,Rab1,Qh4,Ng3,Be5,Nf5,Qf6,f4,Bc3,Rfc1,Bb2,Rc2,Ba3,g3,Bc5+,Kg2,g6,Nh6+,Kg7,Ng4,Qe7,Rd1,f5,Qc3+,Kg8', 'Nh6+,Kf8,Qh8#', 'https://lichess.org/training/JOa58');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('joaeE', 'Rapid', 'ajperella', 1604, 'DextRts', 1607, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Nc3,Nf6,Bg5,Bc5,Qe5+,Qe7,Qxc7,O-O,O-O-O,Qe6,Bxf6,Qxf6,Bb5,Qxf2,Bxd7,Ba6,Bb5,Rac8,Qxa7,Bxb5,Nxb5,Be3+,Kb1,Qxc2+,Ka1,Ra8,Qc7,Rxa2+,Kxa2,Ra8+,Qa7,Rxa7+,Nxa7,h6,Rd8+,Kh7,Rhd1,Qa4+,Kb1,Qxa7,R8d7,Qa5,Rxf7,Kg6,Rdd7,Qe1+,Ka2,Qa5+,Kb1,Kg5,Rxg7+,Kf4,Rdf7+,Ke5', 'Rf5+,Kxe4,Rxa5', 'https://lichess.org/training/joaeE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jOAXf', 'Rapid', 'mqk', 1759, 'Benji_Govinda', 1704, 'd4,d5,e3,Nf6,Nf3,e6,Bd3,c6,O-O,Nbd7,c4,b6,a3,Bb7,b4,c5,dxc5,bxc5,cxd5,Nxd5,b5,Bd6,Qc2,N7f6,Bb2,Rc8,Nc3,Nxc3,Bxc3,Bxf3,gxf3,Nd5,Bd2,Qh4,f4,Nf6,Kg2,Ng4,Rh1,Nxf2', 'Be1,Qh3+,Kxf2', 'https://lichess.org/training/jOAXf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jObIo', 'Rapid', 'sorenagrand', 2212, 'andrei70ster', 2180, 'e4,g6,d4,Bg7,Nc3,d6,Be3,Nf6,f3,Nc6,Qd2,e5,d5,Ne7,O-O-O,O-O,Bh6,Bd7,Bxg7,Kxg7,h3,a6,h4,b5,g4,b4,Nce2,a5,h5,Rh8,Ng3,h6,hxg6,fxg6,Bc4,g5,N1e2,Ng6,Nf5+,Bxf5,exf5,Nh4,Rxh4,gxh4,Rh1,Nh7,f4,Re8,Rg1,Qf6,Bd3,e4,Bb5,Re7,Nd4,e3,Qd3,Kh8,Ne6,Rg8,Qxe3,Nf8,Bd3,a4,g5,Qf7,f6,Rd7,Qd4,c5,dxc6,Nxe6,Qxb4,Rc7,Qxd6,hxg5,Bc4,Re8,fxg5,h3,Re1,Nxg5,Bxf7', 'Rxe1+,Kd2,Ne4+,Kxe1,Nxd6', 'https://lichess.org/training/jObIo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JoBzh', 'Blitz', 'orlandoduranpy', 1663, 'Kevin_Martinez', 1941, 'a4,Nc6,e4,Nf6,e5,Ng8,Nc3,Nxe5,f4,Nc6,b3,Nf6,Bd3,d6,f5,b6,b4,h5,Bb5,a6,Bxc6+,Bd7,Bxd7+,Qxd7,h4,Qd8,Rh3,Nd7,d4,Rh6,Nd5,c6,Nf4,Ra7,g3,e5,Nxh5,Rxh5,g4,Rh7,h5,Nf6,Rh4,Nxg4,Rxg4,exd4,Qxd4,Re7+,Kd1,Rh6,Rxg7,Bxg7,Bxh6,Bxd4,Ne2,f6,Nxd4,c5,Kd2,cxd4,Rg1,Qd7', 'Rg8+,Kf7,Rf8#', 'https://lichess.org/training/JoBzh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('joCva', 'Rapid', 'salih46', 1818, 'Tal_Ivanchuk', 1783, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,h6,c3,Nf6,d4,exd4,cxd4,Bb6,e5,d5,exf6,dxc4,fxg7,Rg8,Re1+,Ne7,Bxh6,Bf5,Nc3,Qd7,Ne5,Qd6,Qa4+,c6,Qxc4,O-O-O,Nxf7,Qf6,Nxd8,Kxd8,Rxe7,Kxe7,Re1+,Be6,d5', 'Qxf2+,Kh1,Qxe1+,Qf1,Qxf1#', 'https://lichess.org/training/joCva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jOeLX', 'Rapid', 'I-OI', 1875, 'Anik_Pal', 1879, 'd4,d5,c4,e6,Bf4,Nf6,e3,c5,Bd3,dxc4,Bxc4,Nc6,Nf3,cxd4,Nxd4,Bb4+,Nc3,Nxd4,exd4,Ne4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/jOeLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jogSJ', 'Rapid', 'delefouca', 1932, 'ali_1340', 1867, 'd4,e6,c4,d5,Nf3,Be7,Nc3,Nf6,e3,O-O,Bd3,c6,O-O,g6,Re1,Nbd7,e4,dxe4,Nxe4,Qc7,Bh6,Re8,Nxf6+,Nxf6,h3,b6,Ne5,Bb7,Qc2,c5,Nxg6,fxg6,Bxg6,Be4,Bxe4,Nxe4,Qxe4,Bf6,Qg4+,Kh8,Rxe6,Rg8,Qf5,Bxd4,Rd1,Qb7,g3,Qd7,Rxd4,Qxd4,Re5,Qd1+,Kg2,Rg6,Bf4,Qd8,Rd5,Qe7,Be5+,Kg8,Bd6', 'Rxd6,Rxd6,Qxd6', 'https://lichess.org/training/jogSJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JOIl9', 'Rapid', 'JoeskY', 2004, 'Igor1989skokov', 1934, 'e4,e5,Nf3,d6,d4,Bg4,Be2,exd4,Nxd4,Bxe2,Qxe2,Be7,Nc3,Nf6,O-O,O-O,Nf5,Nbd7,Qf3,Ne5,Qg3,Ng6,Re1,c6,Bg5,h6,Bh4,Re8,Rad1,Qd7,e5,Qxf5,exf6,Bxf6,Bxf6,Qxf6,Ne4,Qxb2,h4,Qxc2,Rd2,Qc4,Rde2,d5', 'Nf6+,gxf6,Rxe8+,Rxe8,Rxe8+,Kg7,h5', 'https://lichess.org/training/JOIl9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JoJmd', 'Rapid', 'drwatson123', 1718, 'JackHinzen', 1735, 'e4,c5,Nf3,d6,Nc3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e5,Bb5+,Bd7,Bxd7+,Qxd7,Qb4,Be7,Nd5,Rc8,c3,Nf6,O-O,O-O,Rd1,Nxd5,Rxd5,b6,Be3,Qg4,h3,Qg6,Qa4,Rc7,Rc1,f5,exf5,Qxf5,Qb3,Kh8,g4,Qf3,c4,Qxh3,Rc3,Qxg4+,Kf1,Qh3+,Ke1,Qh1+,Ke2,Qf3+,Ke1,Qh1+,Ke2,Qh5+,Ke1,Rfc8,a3,Bg5,Bxg5,Qxg5,Rg3,Qf5,Rf3,Qb1+,Qd1,Qe4+,Re3,Qxc4,Rexe5,Qh4,Rxd6,Qh1+,Ke2,Qh2', 'Rd8+,Rxd8,Qxd8#', 'https://lichess.org/training/JoJmd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jOJpl', 'Blitz', 'aaQwrD', 2516, 'FM RetiLangweiler', 2568, 'd4,Nf6,Nf3,d5,g3,e6,c4,Be7,Bg2,O-O,O-O,dxc4,Ne5,Nc6,Nxc6,bxc6,Na3,Bxa3,bxa3,Rb8,Qa4,Qxd4,Be3,Qb2,Qxc4,Qb5,Qxc6,Nd5,Qxb5,Rxb5,Bxa7,Ra5,Bd4,c5,Be5,f6,Bb2,Ba6,Rfd1,Bxe2,Re1,Bd3,Rxe6,c4,Rd6,Ne7,Bc3,Rxa3,Bb4,Ra7,Re6,Re8,Rae1,Kf7,Rxe7+,Rexe7,Bd5+,Ke8,Bc6+,Kd8,Bxe7+,Rxe7,Rc1,Kc7,Bb5,Re5,a4,Rc5,f4,Kb6,Kf2,Rd5,Ke3,Kc5,Rc3,Kb4,Rc1,Rd6,g4,g6,Kf3,f5,gxf5,gxf5,Ke3,Kc5,Kd2,Kd4,Rg1,c3+,Kc1,Bxb5,axb5,Ke4,Rf1,Rb6,Kc2,Rxb5,Kxc3,Rc5+,Kd2,Rd5+,Ke2,Rd3,Kf2', 'Rf3+,Kg1,Rxf1+', 'https://lichess.org/training/jOJpl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JoKJT', 'Blitz', 'Forkast', 1774, 'byhi780', 1787, 'e4,b6,d4,Bb7,Be2,Bxe4,Bf3,Bxf3,Nxf3,Nc6,O-O,d5,c3,e6,Bf4,Bd6,Bxd6,Qxd6,Nbd2,Nf6,Re1,O-O-O,Nf1,h5,h4,Ne4,Qc1,f5,Ng5,Nxg5,Qxg5,Qd7,Ng3,Na5,b3,Kb7,b4,Rdf8,bxa5,f4,Nh1', 'Rf5,Qg6,Rh6,Qxh6,gxh6', 'https://lichess.org/training/JoKJT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('joLiC', 'Blitz', 'Dewa_Kipas_Jr', 1635, 'keldarion', 1613, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Ng4,cxd4,Bb4+,Nc3,d5,exd6,Qxd6,O-O,O-O,h3,Nf6,a3,Bxc3,bxc3,Re8,Bb2,Be6,Bd3,h6,c4,b6,d5,Bxh3,dxc6,Qxc6,gxh3,Rad8,Qc2,Qxf3,Kh2,Rxd3,Bxf6,gxf6', 'Rg1+,Kf8,Rg3,Qxg3+,fxg3', 'https://lichess.org/training/joLiC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jOmA8', 'Classical', 'enginoktay', 1659, 'alexanderbtc', 1657, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Bg5,h6,Bf4,Nbd7,Be2,g5,Bg3,Re8,O-O,Nh5,Rc1,e5,Nxe5,Nxg3,Nxf7,Nxe2+,Qxe2,Kxf7,Qh5+,Kg8,Nd5,c6,Ne3,Nf6,Qg6,Nxe4,Rfd1,Qf6', 'Qxe8+,Qf8,Qxe4', 'https://lichess.org/training/jOmA8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JoOUI', 'Blitz', 'PabloEskiboy', 1751, 'tnpchlk', 1711, 'Nf3,f5,d4,Nf6,c4,e6,Nc3,Be7,Bg5,O-O,e3,Ne4,Bxe7,Qxe7,Bd3,Nxc3,bxc3,d6,O-O,e5,dxe5,dxe5,Bc2,Nc6,Qd5+,Be6,Qb5,Rab8,Nxe5,Nxe5,Qxe5,Qf7,Bb3,b6,Rfe1,c5,e4,Bxc4,Bxc4,Qxc4,exf5,Rbe8,Qc7,Qxc3,Rec1,Qa5,Qf4,Qb4,Qc7,Qa5,Qf4,Rd8,a4,Rd4,Qf3,Rxa4', 'Qb3+,c4,Qxa4,Qxa4,Rxa4', 'https://lichess.org/training/JoOUI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jOpRN', 'Bullet', 'DaniilRussianboa', 2137, 'Jojolm', 2065, 'd4,Nf6,Nf3,d5,g3,Nc6,Bg2,Bf5,O-O,e6,a3,Be7,Nh4,Bg6,c3,O-O,Nd2,Nb8,Nxg6,hxg6,e4,dxe4,Nxe4,c5,Nxf6+,Bxf6,Bxb7,Nd7,Bxa8,Qxa8,dxc5,Nxc5,Be3,Ne4,Qf3,Be5,Bd4,Bd6,Rfe1,f5,Qd3,Ng5,Re3', 'Nh3+,Kf1,Qh1+,Ke2,Qxa1', 'https://lichess.org/training/jOpRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('joqVf', 'Rapid', 'Danielx2', 1846, 'ChrisQueenf3', 1667, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,Nbd2,Ne7,Nf1,Ng6,Ng3,h6,O-O,O-O,Be3,Bb6,Re1,c6,d4,exd4,Bxd4,Be6,Bb3,d5,h3,Bc7,e5,Nd7,Bc2,a6,Bxg6,fxg6,Qd3,Bf5,Nxf5,gxf5,Nh4,c5,e6,Qxh4,e7,Rfe8,Bxc5,Nxc5,Qxd5+,Kh8,Qxc5,Qf4,Qd5,Qh2+,Kf1,Qh1+,Ke2,Rxe7+,Kd2,Rd8', 'Qxd8+,Bxd8,Rxh1', 'https://lichess.org/training/joqVf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JORCo', 'Blitz', 'Aicarte-aiparte', 2716, 'FM AJ_Literatus', 2481, 'd4,Nf6,c4,e5,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,e4,Ng5,d5,e3,c6,h4,O-O,Be2,a6,Qc2,b5,c5,a5,O-O-O,b4,f3,h6,fxe4,hxg5,hxg5,Nxe4,Nxe4,Bf5,Bd3,dxe4,Bxe4,Bxe4,Qxe4,Re8,Qh7+,Kf8,Rdf1,Qxg5,Qh8+,Ke7,Qh3,Nd7,Rf5,Qg6,Rhf1,Nf6,e4,Rh8', 'Re5+,Kf8,Qxh8+', 'https://lichess.org/training/JORCo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jORHb', 'Classical', 'HarlyFrance', 1942, 'badawitop', 2056, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,d6,Nc3,a6,a4,O-O,h3,Na5,Ba2,c6,Ne2,c5,Ng3,b5,axb5,axb5,c3,Bb7,Bd2,c4,b4,cxd3,bxa5,Nxe4,Nxe4,Bxe4,c4,bxc4,Bxc4,d5,Ba2,Bd6,Ng5,h6,Nxe4,dxe4,Bd5,Ra6,Bxe4,Bc7,Bb4,Re8,Qxd3,Qh4,Bh7+,Kh8,Qxa6,Qxb4,Bd3,e4,Rfb1,Qd4,Qc4,Qe5,Bf1', 'Qh2#', 'https://lichess.org/training/jORHb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jORP5', 'Blitz', 'WFM Idrisova_Roza', 2207, 'Motzy', 1557, 'd4,b6,Nf3,Bb7,c4,e6,a3,c5,d5,exd5,cxd5,Nf6,Nc3,d6,Bg5,Nbd7,e4,Be7,h3,O-O,Be2,h6,Be3,Re8,O-O,Bf8,Rc1,Nxe4,Nxe4,Rxe4,Bd3,Re7,Bb1,Nf6,b4,Bxd5,bxc5,bxc5,Qc2,Be4,Qc3,Bxb1,Rxb1,Nd5,Qd3,Nxe3,fxe3,g6,Rfe1,Bg7,Rbd1,Rd7,Qd5,Rb8,e4,Rb3,e5,Rxa3,exd6,Bd4+,Nxd4,cxd4,Qxd4,Qb6', 'Re8+,Kh7,Rh8#', 'https://lichess.org/training/jORP5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JOSyn', 'Rapid', 'cardiac_arrest', 2016, 'Trefli', 1957, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c4,b4,Nc2,Bg5,Ncxb4,Nxb4,Nxb4,O-O,Be2,Qa5,a3,Rb8,O-O,Be6,Nd5,Bxd5,cxd5,Rxb2,Qd3,Rfb8,Qxa6,Qxa6,Bxa6,h6,g3,Rd2,Rfb1,Rbb2,Rxb2,Rxb2,a4,Bd8,Kf1,Bb6,Be2,Bd4,Ra3,Rb1+,Kg2,Rb2,Kf3,Bc5,Ra1,Bd4,Ra3,Bc5,Ra1,Bd4,Rc1,Ra2,Rc8+,Kh7,Ra8,g5,h3,h5,g4,hxg4+,hxg4,Kg7,a5,Kf6,a6,Bc5,Rh8,Kg7,Rh5,Kg6,Rh8,Kg7,Rc8,Kf6,Rc7,Ra3+,Kg2,Ra2,Kf1,Ra1+,Kg2,Ra2,Bb5,Rxf2+,Kg3,Ra2,Be8,Rxa6', 'Rxf7+,Kg6,Ra7+,Kh6,Rxa6', 'https://lichess.org/training/JOSyn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JOtcE', 'Rapid', 'wxcnbv2002', 1611, 'Surikaata', 1732, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nc6,Nf3,Bb4,Bd2,Bg4,e3,Nge7,a3,Ba5,b4,Bb6,Na4,O-O,Be2,Ng6,h3,Bd7,O-O,Nce7,Rc1,Nf5,Qb3,c6,Nc5,Qc8,Nd3,Nfh4,b5,Nxg2,Kxg2,Bxh3+,Kh1,Bxf1,Bxf1,Qg4,Bg2,Nh4,Rg1,Nxf3,Bxf3,Qxf3+,Rg2,Bc7,Ne5,Qh5+,Kg1,Bxe5,dxe5,Qxe5', 'Bc3,d4,Bxd4,Qxd4,exd4', 'https://lichess.org/training/JOtcE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('joTJ5', 'Classical', 'YelnurLight', 2005, 'chessyes604', 2079, 'd4,Nf6,c4,g6,Nc3,Bg7,g3,O-O,Bg2,c6,e4,d6,Nge2,e5,d5,cxd5,cxd5,Nbd7,O-O,a6,b3,b5,Ba3,Nb6,h3,Bd7,Bxd6,Bxh3,Bxf8,Bxg2,Kxg2,Bxf8,a4,b4,a5,Nbd7,Nb1,Nxe4,Nd2,Nef6,Nc4,Nc5,Nxe5,Qxd5+,Qxd5,Nxd5,Rab1', 'Re8,Rfe1,Rxe5', 'https://lichess.org/training/joTJ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JoUml', 'Classical', 'RostuslavPrk', 1610, 'Yash39', 1613, 'e4,e5,f4,Nc6,Bb5,Nd4,Bc4,b5,Bd5,c6,Bb3,c5,c3,Nc6,d3,b4,Nf3,Nf6,fxe5,Ng4,d4,cxd4,cxd4,Be7,h3', 'Bh4+,g3,Bxg3+', 'https://lichess.org/training/JoUml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('joW1s', 'Blitz', 'Unimaginable', 2321, 'WFM dishearten', 2313, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Bb4,Qb3,c5,dxc5,Nc6,cxd5,exd5,Bg5,O-O,e3,Bxc3+,bxc3,h6,Bh4,g5,Bg3,Qa5,Bb5,Ne4,Bxc6,bxc6,Qb4,Qxc5,Qxc5,Nxc5,Bd6,Nd3+,Ke2,Ba6,Bxf8,Kxf8,Ne1,Ne5+,Kd2,Rb8,Nc2,Nc4+,Kc1,Ne5,Rb1,Re8,f3,Nc4,Re1,Bb5,Nd4,a6,e4,Ne5,exd5,Nd3+,Kd2,Nxe1,Nxb5,axb5,Rxe1,Rxe1,Kxe1,cxd5,Kd2,Ke7,Kd3,f5,Kd4,Kd6,g3,h5,h4,gxh4', 'gxh4,f4,a3,Ke6,Kc5,Ke5,Kxb5', 'https://lichess.org/training/joW1s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jOX47', 'Blitz', 'Anderson_Ramirez_CAQ', 2219, 'Moreno_19', 2253, 'd4,d5,Nf3,e6,e3,Nf6,Be2,b6,O-O,Bb7,b4,Bxb4,Bb2,Bd6,Nbd2,Nbd7,Ne5,O-O,f4,Ne4,Nxe4,dxe4,c4,f6,Nxd7,Qxd7,Qe1,c5,Qh4,cxd4,exd4,Be7,g4,f5,g5,Qc6,Rac1,Rac8,Qg3,Qa4,a3,Ba6,Qc3,Rfe8,d5,Bf8,dxe6,Rxe6,Rfd1,Qc6,Rd5,Bb7,Rxf5,Bc5+,Kf1,Re7,Rd5,Qe6,h4,Rf8,Qd2,e3,Qd3,Rxf4+,Ke1,Bxd5,cxd5,Qh3,d6,Qh1+,Bf1,Qxh4+,Kd1,e2+,Bxe2,Rd7,Be5,Re4,Qd5+,Kh8', 'Qa8+,Rd8,Qxd8#', 'https://lichess.org/training/jOX47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JOxrF', 'Classical', 'chupacabra2004', 2009, 'Fahreidduog', 2150, 'd4,a6,c4,b5,e4,c6,Nf3,Bb7,Bf4,h6,h4,f6,Ne5,fxe5', 'Qh5+,g6,Qxg6#', 'https://lichess.org/training/JOxrF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Joy2q', 'Rapid', 'pahe', 1681, 'Baal19', 1659, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d6,O-O,Bg4,Bb5,Ne7,d5,a6,Be2,Ne5,Nxe5,Bxe2,Qxe2,dxe5,Nf3,f6,Rab1,Rb8,Nh4,O-O,Rb3,c6,dxc6,Nxc6,Nf5,b5,Rg3,g6,h4,Nd4,Nxd4,Qxd4,Rd1,Qc4,Qg4,Qf7,Rd7,Qe8,h5,g5,Qf5,Rf7,Rxg5+,fxg5,Qxg5+,Kh8', 'Rxf7,Qxf7,Qxe5+', 'https://lichess.org/training/Joy2q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JOYKc', 'Classical', 'Juankarpowiz', 1940, 'georgekravvas', 1887, 'd4,d5,e3,Nf6,Bd3,a6,f4,Bg4,Nf3,Ne4,Nbd2,Nxd2,Bxd2,e6,O-O,Nd7,Qe1,Be7,Qg3,Bxf3,Rxf3,g6,c4,Bh4,Qh3,c6,cxd5,cxd5,e4,dxe4,Bxe4,Rb8,d5,exd5,Bxd5,Bf6,Re1+,Kf8,Bb4+,Kg7,f5,Qb6+,Kh1,Qxb4,Ref1,Qxb2,fxg6,hxg6', 'Qxd7,Rhf8,Rxf6,Qxf6,Rxf6', 'https://lichess.org/training/JOYKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JOyKk', 'Rapid', 'Freddykish', 1852, 'keresytal1', 1896, 'e4,c5,g3,g6,Bg2,Bg7,d3,Nc6,Nf3,e6,Nc3,Nge7,O-O,O-O,Bd2,d5,exd5,Nxd5,Nxd5,exd5,Qc1,Re8,c3,Bf5,d4,c4,Bh6,Be4,Bxg7,Kxg7,Qf4,Qb6,Ng5,Re7,Nxe4,dxe4,Bxe4,Qxb2,Bxc6,bxc6,Qd6,Rae8,Qxc6,Qxc3,d5,Qe5,d6,Re6,Qxc4,Qxd6,Rfd1,Qc6,Qd4+,Kg8,Rac1,Qa6,Qd5,Re5,Qb3,Qa5,Rd7,R8e7,Rxe7,Rxe7,Rc8+,Kg7,Qb2+,Qe5,Qd2,Qe6,Qd8,Qe1+,Kg2,Qe4+,Kh3,Qf5+,Kg2,Qe4+,f3,Qe2+,Kh3,Qf1+,Kh4,g5+,Kxg5,h6+,Kg4,f5+,Kf4', 'Re4+,Kxf5,Qxf3#', 'https://lichess.org/training/JOyKk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jOyLn', 'Classical', 'alavi-1', 1725, 'IiZlelon', 1933, 'e4,d5,e5,c5,c3,Nc6,d4,Bf5,Nf3,e6,Bb5,a6,Bxc6+,bxc6,O-O,Qb6,Nbd2,Rb8,a3,a5,Nh4,Bd3,Re1,Be7,Nhf3,Nh6,Nf1,Bg6,h3,Nf5,g4,Nh4,N1d2,Nxf3+,Nxf3,h5,g5,h4,Kh2,Be4,Re3,Kd7,Nd2,Bxg5,Nxe4,dxe4,Re2,cxd4,Bxg5,d3,Rxe4', 'Qxf2+,Kh1,Rxb2', 'https://lichess.org/training/jOyLn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JP4JS', 'Rapid', 'Le-Maquisard', 1637, 'MrHannibal', 1766, 'd4,g6,c4,Bg7,Nf3,Nf6,Nc3,d6,Bg5,Bg4,e3,O-O,h3,Bxf3,Qxf3,Re8,Bd3,c6,O-O,Nbd7,Rae1,e5,d5,Qb6,Re2,cxd5,cxd5,Nc5,Bb5,Rec8,e4,a6,Ba4,Nxa4,Nxa4,Qd4,b3,b5,Bxf6,Bxf6,Qxf6,bxa4,bxa4,Rd8,Rc1,Qxa4,Rc6', 'Qd1+,Kh2,Qxe2,Rc7,Rf8', 'https://lichess.org/training/JP4JS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jp4PP', 'Rapid', 'RoqueB', 2018, 'Tirza', 1878, 'e4,b5,Bxb5,a6,Be2,Bb7,d3,f5,Bf3,fxe4,Bxe4,Bxe4,dxe4,e6,Nf3,Nc6,O-O,Nf6,Re1,Bc5,c3,O-O,e5,Ng4,Be3,Nxe3,fxe3,Qe7,Nbd2,Rab8,b4,Ba7,Qc2,d5,exd6,cxd6,Nd4,Ne5,N2f3,Nc4,Nc6,Bxe3+,Rxe3,Qc7,Nxb8,Nxe3,Qe4,Qxc3,Qxe6+,Kh8,Re1', 'Qxe1+,Nxe1,Rf1#', 'https://lichess.org/training/jp4PP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jp5nP', 'Rapid', 'RoccaDelleLumache', 1679, 'packerraider', 1607, 'Nf3,d5,b3,Nc6,Bb2,Nf6,g3,e6,Bg2,Bd6,c4,dxc4,bxc4,Bd7,d3,Qe7,Nbd2,h6,a4,a6,a5,Bb4,Ba3,O-O-O,Bxb4,Nxb4,Ne5,Kb8,Qb3,c5,Nxd7+,Rxd7,Ne4,Rhd8,Nxf6,Qxf6,O-O,e5,Bh3,Rc7,Bg2,g5,Rfb1,h5,Qd1,g4,Qd2,Rdd7,Qe3,Nc2,Qe4,Nxa1,Rxa1,Qe6,Rb1,f5,Qe3,Re7,Qg5,Rh7,Bd5,Qe7,Qxf5,Qd6,Be4,Rh8,Rb6,Qe7,Qg6,h4,Qd6,hxg3,Qxe7,Rxe7,hxg3,Rg8,Bd5,Rgg7,Rh6,Rh7,Rg6,Rhg7,Rf6,Rh7,Rf8+,Ka7,Be4,Rhf7,Rh8,Rg7,Rc8,Rc7,Re8,Rce7,Rh8,Rc7,Rh4,Rce7,Bf5,Rc7,Bxg4,Rce7,Bf3,b6,axb6+,Kxb6,Bd5,Ka5,Kg2,Kb4,Rh1,a5,Bc6,a4,Ra1,a3,Bb5,Ra7,Kf3,Rgb7,Bc6,Rc7,Bb5,a2,Ke4,Ra3,Kxe5,Rca7,Kd6,Rc3,g4,Kb3,Kxc5,Kb2,Rg1,a1=Q,Rxa1,Rxa1,g5,Rg1,f4,Rg2,e4,Rxd3,Bc6,Rf3', 'e5,Rgg3,Bxf3', 'https://lichess.org/training/Jp5nP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jp8ag', 'Rapid', 'T3RIAD', 1657, 'Adildamanov', 1773, 'e4,e5,Bc4,Bc5,Nf3,d6,b4,Bb6,b5,Bd7,Nc3,Ne7,O-O,O-O,d4,exd4,Nxd4,Ng6,Nf3,Be6,Bxe6,fxe6,Bg5,Qe8,a4,a6,a5,Bc5,Na4,axb5,Nxc5,dxc5,Qd3,c4,Qe3,c6,Qb6,Qc8,Rfd1,Nd7,Qd4,e5', 'Qxd7,Qxd7,Rxd7', 'https://lichess.org/training/Jp8ag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jp8Mu', 'Classical', 'radek40', 1797, 'rui070511', 1634, 'd4,Nf6,c4,c6,Nc3,d5,Nf3,e6,Bg5,Be7,e3,h6,Bh4,Nbd7,cxd5,exd5,Bd3,O-O,Rc1,Ne4,Bxe7,Nxc3,bxc3,Qxe7,O-O,Nf6,Ne5,Nd7,f4,Nxe5,fxe5,f6,exf6,Qxe3+,Kh1,Rxf6,Rxf6,gxf6,Qc2,f5,h3,Bd7,Rf1,Rf8,Rf3,Qg5,Kh2,b6', 'Rg3,Qxg3+,Kxg3', 'https://lichess.org/training/jp8Mu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jp9om', 'Blitz', 'menezeslucas', 2143, 'NM Titus369', 2248, 'd4,c5,c3,cxd4,cxd4,d5,Nc3,Nf6,Bf4,a6,e3,Bf5,Bd3,Bxd3,Qxd3,Nc6,Nf3,e6,O-O,Be7,Rfe1,O-O,Rac1,Rc8,h3,Na5,b3,Ba3,Rc2,Bb4,Rec1,Qd7,Ne5,Qd8,f3,Bxc3,Rxc3,Rxc3,Qxc3,Qb6,Bg5,Re8,b4,Nc4,Nxc4,dxc4,Qxc4,Nd5,a3,h6,e4,Nxb4,Bxh6,Na2,Qxa2,Qxd4+,Qf2,Qxf2+,Kxf2,gxh6,Rc7,Rb8,Ke3,a5,Kd4,b5,Ra7,a4,Kc5,Kg7,Ra6,Kf6,Rb6', 'Rxb6,Kxb6,b4', 'https://lichess.org/training/Jp9om');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JpAgm', 'Rapid', 'mahrous-atef', 1913, 'Mahlzahn', 1944, 'e4,e6,Nf3,c5,Nc3,Nc6,Qe2,d6,Qd3', 'Nb4,Qe2,Nxc2+', 'https://lichess.org/training/JpAgm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jpbKv', 'Rapid', 'ioriaifo', 1976, 'jimjum', 1885, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,dxc4,a4,e6,Ne5,b5,axb5,cxb5,Nxb5,Bb4+,Nc3,O-O,Nxc4,Ne4,Bd2,Nc6,Nxe4,Nxd4,Bxb4,Nc2+,Qxc2,Re8,e3,Bb7,Ned6,Qe7,Qb3,Reb8,Qc3,Bd5,Nf5,Qxb4,Qxb4,Rxb4,Nfd6,Rbb8,Ne5,Rxb2,Bc4,Bxg2,Rg1,Bd5,Bxd5,exd5,Nexf7,g6,h4,Kg7,h5,Kf6,hxg6,hxg6,Nh6,a5,Ng4+,Ke6,Nh6,Kf6,e4,dxe4,Nxe4+,Kg7,Nf5+,Kf7,Nfd6+,Kg7,Nf5+,Kf7,Nh4,Rb4,f3,Rb6,Nd2,Rc6,Nb3,a4,Nd4,Rd6,Rg4,Ra5,Nb3,Re5+,Kf2,axb3,Rb4,g5,Ng2,Rd2+,Kg3,b2,Rb1,Ree2,Ne1,Rh2,Kg4', 'Rh4+,Kg3,Rxb4', 'https://lichess.org/training/jpbKv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JpcLl', 'Classical', 'B-S-TCHESSPLAYER', 1800, 'targetisgm', 1810, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Ne2,Bg4,O-O,Nd7,Be3,Re8,Qc2,h6,h3,Bh5,Nf4,Bxf4,Bxf4,Nb6,Rfe1,Nd5,Bg3,Rc8,Bf5,Ra8,Qd2,Bg6,Bg4,f5,Bf3,Nf6,Rxe8+,Qxe8,Re1,Ne4,Bxe4,fxe4,f3,Qd7,fxe4,Re8,e5,Qd5,b3,c5,Rd1,Be4,dxc5,Qxc5+,Qd4,Qc6,Rd2,Qg6,Bh2,Bf5,Kh1,Kh7,Qxa7,Be4,Qf2,Re6,a4,f6,exf6,Rxf6,Qg1,Qf5,Qe3,Rg6,Re2', 'Qf1+,Bg1,Bxg2+', 'https://lichess.org/training/JpcLl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jpD4I', 'Rapid', 'mohamd111', 1877, 'kstokkel', 1835, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Bf5,Nf3,c6,Be2,Nd7,O-O,Ngf6,Bd2,e6,Re1,Be7,Bc4,O-O,a3,Qc7,Ne2,Bd6,Ng3,Bg4,Bg5,Bxg3,fxg3,Rad8,Bf4,Qb6,b4,Rfe8,Kh1,h6,Qd2,Bxf3,gxf3,Kh7,a4,e5,a5,Qc7,dxe5,Nxe5,Bd3+,g6,Bxe5,Rxe5,Rad1,Rxe1+,Rxe1,Kg7,Qc3,Qd6,Re2,Qd5,Kg2,Rd6,Re7,Re6,Rxb7,Kh7,Bc4,Qf5,Rxf7+,Kg8,Bxe6,Qxe6,Rxa7,Qe2+,Kh3', 'Qf1+,Kh4,g5#', 'https://lichess.org/training/jpD4I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JpdjW', 'Classical', 'GeoMich', 1990, 'cristall20', 1833, 'e4,c6,d3,e5,g3,d6,Bg2,Nf6,Ne2,Be7,O-O,O-O,f4,Nbd7,c3,b6,d4,Ba6,Re1,Rc8,Nd2,c5,d5,Bd3,c4,b5,b3,bxc4,bxc4,Nb6,Nc3,Nxc4,Nb3,Nb2,Bxb2,c4,Nc1', 'Qb6+,Kh1,Qxb2', 'https://lichess.org/training/JpdjW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JPdKd', 'Blitz', 'FurkanBey', 1523, 'Jukuva', 1517, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,d6,Nf3,Nf6,Nc3,g6,Be3,Bg7,Bc4,O-O,Qe2,e6,O-O-O,Qc7,Nh4,Nd7,f4,a6,Bd4,b5,Bxg7,Kxg7,Bd3,Bb7,f5,exf5,exf5,Nde5,fxg6,Nxd3+,Qxd3,fxg6,Nd5,Qd8,Qc3+,Kg8,Qb3,Kg7,Qc3+,Kg8,Rhf1,Qxh4,Rxf8+,Rxf8,g3,Qg5+,Kb1,Ne5,Nf4,Be4,Rxd6,Qf5,Qb3+,Kg7,Ne6+,Kh6,Nxf8,Qxf8,Qe3+,Kg7,Rxa6', 'Qf1+,Qc1,Bxc2+,Ka1,Qxc1#', 'https://lichess.org/training/JPdKd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JPEm9', 'Blitz', 'CM dEadpoOlshIkAmarU', 2268, 'Marsar27', 2095, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,cxb2,Bxb2,e6,Nc3,a6,Nf3,b5,Bb3,Bb7,O-O,b4,Na4,Bxe4,Re1,Bc6,Rc1,Bxa4,Bxa4,Be7,Ne5,Nf6,Qf3,Ra7,Qe3,Rc7,Bd4,Rxc1,Rxc1,O-O,Bb6,Qe8,Rc7,Nd5,Qd4,Nxc7,Bxc7,Bf6,Qd6,Qe7,Qb6,Bxe5,Bxe5,d6,Bxd6,Qf6,h4,e5,Qc7,Rd8', 'Be7,Qxe7,Qxe7', 'https://lichess.org/training/JPEm9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPFu0', 'Rapid', 'OLASSS86', 1811, 'gelantia', 1635, 'd4,d5,Bf4,Nf6,e3,e6,a3,c5,Nc3,c4,Nf3,Nc6,Be2,h6,O-O,g5,Be5,Nxe5,Nxe5,Nd7,e4,Nxe5,dxe5,d4,Na2,b5,Nb4,Bb7,Bf3,a5,Na2,Bg7,Qe2,Bxe5,Rad1,Qf6,b3,Ba6,b4,a4,g3,O-O-O,Bg2,h5,f4,gxf4,gxf4,Bxf4,e5,Qxe5,Qxe5,Bxe5,Rxf7,Rd7,Rff1,Rg8,Kh1,Bb7,Bxb7+,Kxb7,Rfe1,Rd5,Nc1,Kc7,Re4,Kd6,Ne2,d3,cxd3,cxd3,Ng1,d2,Nf3,Rg4,Re2,Bf4,Nxd2,Bxd2,Rexd2,Rxd2,Rxd2+,Ke5,Rc2,Kd5,Rc5+,Kd4,Rxb5,e5,Rc5,e4,Rc8,e3,Rd8+,Kc3,Re8,Kd2,Rd8+,Ke1,b5,e2,b6,Rg7,h4,Rf7,Kg1,Rb7,Rd6,Rg7+,Kh2,Kf2,Rf6+,Ke3,Re6+,Kd2,Rd6+,Kc2,Re6,Kb3,Rxe2,Kxa3,Re1,Kb2,Re5,a3,Rb5+,Kc1', 'b7,Rxb7,Rxb7', 'https://lichess.org/training/jPFu0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jpG4H', 'Blitz', 'gloriavictis101', 2262, 'CM LegendaryOM', 2298, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,Nc3,O-O,d3,d6,Bg5,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Be3,Kh8,Kg2,f5,Be6,Nd4,Bxd4,exd4,Nd5,c6,Nxe7,Qxe7,Bxf5,Bxf5,exf5,Rxf5,Rh1,Raf8,Rh3,Qe6,Rg3,h6,Qe1,Qf6,Qe4,Rf4,Qe2,g5,Rf1,g4,Nd2,h5,Ne4,Qe5,c4,R8f5,f3,d5,cxd5,cxd5,Qc2,dxe4,dxe4,Rf7,Qc8+,Kg7,fxg4,Rxf1,gxh5+,Kh6', 'Rg6+,Kh7,Qg8#', 'https://lichess.org/training/jpG4H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPhib', 'Blitz', 'MenetekelUphrasim', 2300, 'hugo96', 1790, 'd4,d5,Nf3,a6,c4,c6,Nc3,b5,b3,Bb7,e3,e6,Bb2,Bb4,Bd3,Qa5,Qc2,bxc4,bxc4,Nd7,O-O,Nb6,c5,Nc4,Bxc4,dxc4,Ne4,Rd8,a3,Bxc5,dxc5,f5,Nd6+,Ke7,Nxb7,Qc7,Nd6,Qa7,Qxc4,Nf6,Ne5,Qc7,Nef7,Nd5,Nxd8,Rxd8,Be5,Qa5,Rab1,g6,Rb7+,Rd7,Rxd7+,Kxd7,Rb1,Qxa3,Rb7+,Kd8,Qb3', 'Qc1+,Qd1,Qxd1#', 'https://lichess.org/training/jPhib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JpiC1', 'Rapid', 'abbas59', 1610, 'konstantin19601', 1693, 'c4,e5,Nc3,Bb4,a3,Bxc3,bxc3,Nf6,Nf3,e4,Ng5,h6,Nh3,d5,cxd5,Qxd5,Nf4,Qf5,e3,g5,Ne2,Nc6,Ng3,Qe5,d4,exd3,Bxd3,Be6,Bd2,O-O-O,Be2,Ne4,Nxe4,Qxe4,Bf3,Qc4,Rb1,b6,Bxc6,Qxc6,O-O,Bd5,Qg4+,Kb8,c4,Be4,Rb2,f5,Qg3,f4,exf4,gxf4,Bxf4,Bxg2,Qxg2,Rhg8,Bg3,Qxc4,Rfb1,Rc8,Rxb6+,axb6', 'Rxb6+,Ka7,Qb7#', 'https://lichess.org/training/JpiC1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPjIS', 'Classical', 'RIDDIG', 1778, 'Dr_Jamal', 1630, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,d6,d5,Na5,Bd3,Nf6,b4,Nc4,Bxc4,Nxe4,Nbd2', 'Nc3,Bb2,Nxd1', 'https://lichess.org/training/jPjIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jpkhr', 'Classical', 'SAXMAN1', 1719, 'hzr1236', 1655, 'e4,c5,Nf3,d6,Be2,Nc6,O-O,Nf6,d3,g6,Bg5,Bg7,Nc3,O-O,Rb1,a6,Bxf6,Bxf6,Nd5,Bg7,a3,Bd7,c4,b5,Qc2,Nd4,Qd1,Rb8,Nxd4,cxd4,b3,bxc4,bxc4,e6,Nb4,d5,Nxa6,Ra8,Nc5,Rxa3,Nxd7,Qxd7,exd5,exd5,cxd5,Qxd5,Bf3,Qf5,Be4,Qc8,Rb7,f5,Bf3,Rf7,Qb1,Rxb7,Qxb7,Qxb7,Bxb7,Rxd3,Re1,Rb3', 'Bd5+,Kf8,Bxb3', 'https://lichess.org/training/Jpkhr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPlbd', 'Classical', 'bildo17', 1691, 'tuzic1976', 1771, 'Nf3,Nf6,d4,e6,Bg5,Be7,Ne5,O-O,e3,d6,Nf3,Ne4,Bxe7,Qxe7,Bd3,d5,Ne5,Nc6,Nxc6,bxc6,Qh5,Qf6,f3,Ng5,f4,Ne4,Nc3,g6,Qh6,Nxc3,bxc3,a5,O-O,Ba6,Rab1,Qe7,Rf3,f5,Rh3,Rf7,a4,c5,Bxa6,Rxa6,Rb8+,Rf8', 'Rxf8+,Qxf8,Qxh7#', 'https://lichess.org/training/jPlbd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JpM6x', 'Rapid', 'amatar48', 1730, 'AbdussamedAYDIN', 1689, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Nf6,e5,Ne4,Qd5,Ng5,f4,c6,Qd3,Ne6,Qg3,b5,Bb3,Bb4+,Nd2,Be7,f5,Bh4,fxe6,Bxg3+,hxg3,dxe6,O-O-O,Qg5,Ne2,a5,Kb1,a4,Bc2,a3,Ne4,Qg4,Nd6+,Kf8,Nxc8,g6,Rh4,Qxe2,Bc1,Na6', 'Rd8+,Kg7,Bh6#', 'https://lichess.org/training/JpM6x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPmjf', 'Rapid', 'NewplayX', 1761, 'Jasper101', 1965, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,c6,Nf3,f6,a3,Bd6,d3,O-O,Qb3,Kh8,O-O,Nb6,Be3,Na6,Ne4,Be7,Rac1,Qd5,Qd1,Bf5,Nh4,Qd7,Nxf5,Qxf5,Nc3,Rfd8,Qb3,Nc5,Bxc5,Bxc5,Na4,Nxa4,Qxa4,Bb6,Qh4,Qg6,Be4,f5,Bg2,Rd4,Qe7,Rb8,Qxe5', 'Re8,Qxd4,Bxd4', 'https://lichess.org/training/jPmjf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPNeo', 'Blitz', 'ArYaNSaeEdI', 1843, 'Vasiliy1963', 1803, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Be2,cxd4,cxd4,Bb4+,Nc3,Bd7,O-O,Bxc3,bxc3,Nge7,Bd3,O-O,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Rfe8,Qh7+,Kf8,Qh8+,Ng8,Nh7+,Ke7,Bg5+,f6,Qxg7+,Kd8,Nxf6,Nxf6,Bxf6+,Kc7,Rab1,Qa5,Rb3,Rac8,Rfb1,Rb8', 'Rxb7+,Rxb7,Rxb7+,Kxb7,Qxd7+,Kb6,Qxe8', 'https://lichess.org/training/jPNeo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPNRX', 'Rapid', 'A66otgman', 1729, 'Arsenal1988', 1693, 'd4,g6,c4,Bg7,Nc3,e6,Nf3,d5,Bg5,Nf6,e3,O-O,cxd5,exd5,Bd3,c6,O-O,Bg4,h3,Be6,Ne5,Nbd7,f4,h6,Bh4,Nxe5,fxe5,g5,exf6,Bxf6,Bg3,Qd7,Qb3,Be7,Nd1,h5,Nf2,h4,Bh2,Bd6,Bxd6,Qxd6,Ng4,Bxg4,hxg4,Qg3,Bf5,h3,Rf2', 'h2+,Kh1,Qxf2', 'https://lichess.org/training/jPNRX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JPOkV', 'Rapid', 'assura27', 1995, 'xavier889', 2103, 'd4,Nf6,e3,g6,Nf3,Bg7,Nbd2,O-O,a3,d6,b4,Nc6,Bb2,Nd7,c4,Re8,Qc2,e5,d5,Ncb8,Bd3,c6,dxc6,Nxc6,h4,f5,h5,e4,Nxe4,fxe4,Bxg7,Kxg7,Bxe4,Nce5,hxg6,Nxf3+,gxf3,hxg6,Bxg6,Rh8,O-O-O,Qf6,Rxh8,Kxh8,Rh1+,Kg8,Rg1,Qa1+,Qb1,Qxa3+,Qb2,Qxb2+,Kxb2,Kf8,Rh1,Kg7,Be4,Ne5,Rg1+,Kf7,Kc3,Be6,Bxb7,Rb8,Be4,Nxc4,Bf5,Ra8', 'Bxe6+,Kxe6,Kxc4', 'https://lichess.org/training/JPOkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JpPoY', 'Classical', 'Emmanuellopez', 1798, 'JesusCB', 1888, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,a3,e5,d3,Nf6,Nf3,Bg4,O-O,Bd6,Bg5,e4,dxe4,dxe4,Re1,O-O,Bxf6,Qxf6,Rxe4,Bxf3,Qxf3,Qxb2,Qc3,Qxc3,Nxc3,Be5,Rc4,Rac8,Re1,a6,Nd5,Rfe8,Nb6,Rcd8,Rce4,Nd4,f4,Nxb3,cxb3', 'Bd4+,Kf1,Rxe4', 'https://lichess.org/training/JpPoY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jpr79', 'Rapid', 'Groentje', 1759, 'riemervantil', 1710, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,bxc6,Ba4,Nf6,Nc3,Be7,Bg5,O-O,Qd2,Re8,O-O-O,Ng4,h4,Ne5,Bb3,Be6,Bxe6,fxe6,h5,Bxg5,f4,Nc4,Qd3,Bxf4+,Kb1,Ne5,Qf1,Rf8,g4,Nxg4,Qh3,Nf2,Qxe6+,Kh8,h6,Bxh6,Rxh6,gxh6,Rg1,Qf6', 'Rg8+,Rxg8,Qxf6+,Rg7,Qxf2', 'https://lichess.org/training/jpr79');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPslD', 'Blitz', 'SsULTANOvV', 2517, 'GM justantan', 2662, 'Nf3,g6,c4,Bg7,Nc3,c5,g3,Nc6,Bg2,Nh6,O-O,Nf5,d3,O-O,Rb1,b6,Bd2,Bb7,a3,Rb8,b4,d6,e4,Nfd4,Nxd4,cxd4,Ne2,Ne5,Bf4,Qd7,Bxe5,dxe5,f4,exf4,gxf4,e5,f5,Bh6,Ng3,Kh8,Kh1,Rg8,Qg4,f6,Qh3,Bf4,Ne2,Bg5,Bf3,Rg7,Bg4,Qa4,fxg6,Rxg6,Ng3,Qxa3,Nf5,Qa2,Ra1,Qd2,Rxa7,Bf4,Rfa1,Rxg4,R7a2,Rbg8,Rxd2,Bxd2,c5,Rxe4,Qf3', 'Re1+,Rxe1,Bxf3#', 'https://lichess.org/training/jPslD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPsu2', 'Classical', 'pn2206', 1662, 'GandalfThePink1', 1685, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Nc3,h6,Qxe7+,Bxe7,Be2,O-O,O-O,Bd7,h3,b5,Be3,c5,Ne4,Nc6,Rad1,a5,b3,Nb4,c4,Nxa2,Ra1,Nb4,Bd2,Nxe4,dxe4,bxc4,Bxc4,Bf6,Ra3,Bc6,Bd5,Bxd5,exd5,Ra7,Rd1,Rfa8,Bxb4,cxb4,Ra4,Rb7,Nd2,Be7,Nc4,Rb5,Rda1,Rxd5', 'Nb6,Rd3,Nxa8', 'https://lichess.org/training/jPsu2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jpTei', 'Blitz', 'IM dragan961', 2394, 'IM Funo09', 2745, 'd4,Nf6,c4,g6,Nc3,Bg7,g3,O-O,Bg2,d6,Nf3,Nc6,O-O,Bg4,d5,Nb8,Nd4,Bd7,e4,c6,h3,cxd5,cxd5,Na6,Be3,Rc8,Rc1,Nc5,b4,Na6,Qb3,h5,Rfe1,Kh7,Ndb5,Nc7,Nxa7,Ra8,a4,Qb8,Nab5,Nxb5,Nxb5,Bxb5,axb5,Nd7,b6,Ra6,Rc7,Nxb6,Rxe7,Bf6,b5,Ra8,Rxf7+,Rxf7,Bxb6,Qc8,Be3,Qd7,h4,Rc8,Kh2,Rc3,Qb1,Be5,Bh3,Qd8,f4', 'Bxf4,Bxf4,Rxf4', 'https://lichess.org/training/jpTei');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JPTPn', 'Blitz', 'FM Irizanin', 2312, 'PabloMorillo', 2374, 'd4,d5,Nf3,Nf6,Bf4,c5,e3,Nc6,Nbd2,Bg4,c3,e6,Qb3,Qc8,Ne5,Nxe5,Bxe5,c4,Qa4+,Qd7,Qxd7+,Nxd7,Bg3,b5,f3,Bh5,e4,Be7,a3,O-O,Be2,a5,Nf1,Bg6,exd5,exd5,Ne3,Nb6,Bc7,Bg5,f4,Rfe8,Kf2,Bh4+,g3,Bd8,Bxb6,Bxb6,Nxd5,Bd8,Bf3,Rb8,Rhe1,Kf8,Rxe8+,Kxe8,Re1+,Kf8,Be4,Bh5,h3,f6,Bf3,Bf7,Re2,Bxd5,Bxd5,Be7,Kf3,b4,axb4,axb4,Bxc4,bxc3,bxc3,Rc8,Be6,Rxc3+,Kg4,h5+,Kh4,g5+,fxg5,fxg5+,Kxh5,Rxg3,Kg6,Rf3,d5,Rf6+,Kh5,Rf4,Rc2,Kg7,Bg4,Rf8,Be6,Rh8+,Kg4,Rh4+,Kf3,Kf6,Rc7,Bd6,Rf7+,Kg6,Rd7,Be5,Rd8,Rf4+,Ke3,Bd4+,Kd3,Bf6,Rf8,Rd4+,Ke3,Rd1,Rg8+,Kh6,Re8,Kg6,Ke2,Rd4,Ke3,Rd1,Rg8+,Kh6,Bf5,Bg7,Ke4,Rd4+,Ke3,Rxd5,Ke4', 'Re5+,Kf3,Rxf5+', 'https://lichess.org/training/JPTPn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPvHo', 'Rapid', 'Sjakie', 2409, 'RockYugular', 2342, 'c4,f5,Nc3,Nf6,d4,d6,Bg5,Nbd7,Qc2,e6,e4,fxe4,Nxe4,Be7,Bd3,Nxe4,Bxe7,Qxe7,Bxe4,Nf6,Bd3,e5,dxe5,dxe5,O-O-O,O-O,f3,a6,Kb1,b5,cxb5,axb5,Bxb5,Be6,Bc4,Rfb8,Ne2,Qf7,Bxe6,Qxe6,Nc1,Nd5,Rhe1,Ra3,Qc4', 'Nc3+,Qxc3,Rxc3', 'https://lichess.org/training/jPvHo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JPvik', 'Blitz', 'Weldon_grand', 1935, 'KC2020', 2032, 'd4,Nf6,Bf4,d6,Nf3,g6,e3,Bg7,c3,O-O,Nbd2,Nc6,Bd3,Nd7,h4,e5,Bg3,f5,h5,e4,hxg6,hxg6,Bc4+,Rf7,Ng5,Qxg5,Bxf7+,Kxf7,Bf4,Qxg2,Qb3+,Kf8,O-O-O,Qxf2,Bh6,Nf6,Bxg7+,Kxg7,Rh3,d5,Rdh1,a5,Qa3,Be6,Qc5,a4,Qb5,a3,Qxb7,axb2+,Kb1,Qxd2,Qxa8,Qd3+,Kxb2,Qb5+,Ka1,Kf7,Qh8,Qb8', 'Rh7+,Nxh7,Rxh7#', 'https://lichess.org/training/JPvik');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jpvs4', 'Rapid', 'lvn2k', 1831, 'Alsaad', 1735, 'e4,e6,Nc3,b6,Nf3,Bb7,d4,Bb4,Bd3,Nf6,e5,Nd5,Bd2,h6,O-O,Be7,Be4', 'Nxc3,Bxc3,Bxe4', 'https://lichess.org/training/jpvs4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPWF3', 'Rapid', 'sultan1996', 1799, 'Oleg50', 1821, 'e4,b6,Nf3,Bb7,Nc3,g6,d4,Bg7,Bd3,d6,O-O,Nd7,b3,e6,Bb2,Ne7,Rb1,O-O,Re1,Rc8,Ne2,c5,dxc5,Nxc5,Bxg7,Kxg7,Ng3,Qc7,c4,e5,Nf1,Nxd3,Qxd3,f5,exf5,Nxf5,N3d2,Qf7,Ne4,Nd4,Ne3,Bxe4,Qxe4,Qxf2+,Kh1,Rf4', 'Qb7+,Rf7,Qxc8', 'https://lichess.org/training/jPWF3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jpwQf', 'Blitz', 'randsonian-black', 1779, 'amkXcome', 1931, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,d3,Bg4,h3,Bh5,Be3,c6,Nbd2,O-O,c3,d5,exd5,cxd5,Bb3,h6,Qc2,Nc6,d4,e4,Nh2,Rc8,a3,Bd6,f3,Re8,Ng4,Nxg4,fxg4,Bg6,Kh1,Bb8,Rf2,Bg3,Rff1,Qh4,Bxd5,h5,gxh5,Qxh5,Qb3,Rc7,Bf4,Bxf4,Rxf4,Na5,Qa2,Qh6,Raf1,e3,Rxf7,Bxf7,Bxf7+,Kh8,Bxe8,exd2,Qb1,Nc4,Ba4,Rc8,Qd3,Nxb2,Qc2,Nxa4,Qxa4,Qc6,c4,Qxc4,Qd1,Qxd4,Kh2,Rc1', 'Rf8+,Kh7,Qh5#', 'https://lichess.org/training/jpwQf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jPxP6', 'Blitz', 'Beresta', 1711, 'MrDreW', 1548, 'e4,e5,Nf3,Nc6,Bb5,f6,O-O,Bc5,Bxc6,dxc6,c3,Ne7,d4,Bd6,dxe5,fxe5,Qb3,Ng6,Ng5,Qe7,Na3,h6,Nf3,Be6,Qxb7,O-O,Qxc6,Nf4,Nc4,Ne2+,Kh1,Nxc1,Raxc1,Qf7,Nfxe5,Bxe5,Nxe5,Qf6,Qxc7,Rac8,Qa5,Qh4,Rce1,Rxf2,Nf3,Rxf1+,Rxf1,Qxe4,Qxa7,Bc4,Re1,Qg4,Ne5,Qh4,Qe3,Bxa2,Ra1,Bd5,Nf3,Qh5,Ra5,Re8,Qd2,Rd8,Nd4,Qg6,Rxd5', 'Qb1+,Qc1,Qxc1#', 'https://lichess.org/training/jPxP6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JPxr8', 'Rapid', 'oratile219', 2054, 'CASL', 2000, 'd4,d5,c4,dxc4,e4,b5,a4,Bd7,axb5,Bxb5,Nc3,c6,Nxb5,cxb5,b3,e6,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,Nf6,e5,Ne4,Qc2,Qd5,bxc4,bxc4,Bxc4,Qc6,Bb5,Qxb5,Qc8+,Ke7,Qxh8,Qb4+,Kf1,Qc4+,Kg1,Qc3,Rb1,Qc2,Rf1,a5,Qxh7,a4,Qh4+,Kd7,g3,a3,Kg2,a2,Ra1', 'Qxf2+,Kh3,Qxf3,Rhf1,Nf2+,Rxf2,Qxf2', 'https://lichess.org/training/JPxr8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JpxXL', 'Classical', 'ozan1113', 1934, 'NathanKatz', 2309, 'e4,e5,f4,exf4,Nf3,g5,d4,g4,Bxf4,gxf3,Qxf3,Nf6,Bc4,Bb4+,c3,d5,Bd3,dxe4,Bxe4,Nxe4,Qxe4+,Qe7,Be5,Bd6,O-O,Bxe5,dxe5,Nc6,Nd2,Qxe5,Qh4,Qe3+,Rf2,O-O,Nf3,Kg7,Ng5,h6,Nf3,Ne5,Qg3+,Ng4,Rf1,Kh7,h3,Nxf2,Rxf2,Bd7,h4,Rg8', 'Ng5+,Qxg5,hxg5', 'https://lichess.org/training/JpxXL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JPYmT', 'Rapid', 'Schneekonig', 1910, 'RyanM', 1989, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,Nc3,g6,O-O,Bg7,d4,cxd4,Nxd4,Nc6,Be3,Nf6,f3,O-O,Qd2,a6,Nxc6,bxc6,Bh6,Rfb8,Bxg7,Kxg7,b3,Qa7+,Kh1,Qc5,Na4,Qe5,Rae1,Nh5,f4,Qf6,e5,Qh4,Qc3,d5,e6+,f6,Rf3,Nxf4,g3,d4,Qd2,Qh3,Rxf4,h5,Qxd4,g5,Rff1,h4,gxh4,Rh8,Qd7,Rae8,Qd3,Qxh4,Re2,Qg4,Qe4', 'Rxh2+,Rxh2,Qxe4+', 'https://lichess.org/training/JPYmT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jpzh8', 'Rapid', 'GPompey', 1715, 'MomoAsesino', 1783, 'd4,g6,c4,Bg7,Nc3,d6,Nf3,Bg4,h3,Bxf3,exf3,Nd7,Bf4,Ngf6,Be2,O-O,O-O,e5,Be3,exd4,Bxd4,c5,Be3,Ne5,f4,Nc6,a3,Re8,Qd2,a6,Rfe1,Qc7,Rad1,Nd4,Bxd4,cxd4,Qxd4,Rad8,Nd5,Nxd5,Qxd5,Bxb2,a4,Ba3,Rd4,Bc5,Re4,Rxe4,Qxe4,Bb4,Rd1,a5,f5,Qc6,Qd3,Qxa4,fxg6,hxg6,Qg3,Qe8,Bf3,Rc8,Bd5,Rc5,Bxb7,Rxc4', 'Bd5,Rc8,Qxg6+', 'https://lichess.org/training/Jpzh8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jq0lH', 'Rapid', 'SmittyT', 1668, 'Decioescritor', 1722, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nd4,Bxd5+,Kd6,Qe4,c6,f4,Qe7,d3,Nxc2+,Kd1,Nxa1,fxe5+,Qxe5', 'Bf4,Qxf4,Qxf4+', 'https://lichess.org/training/Jq0lH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQ217', 'Rapid', 'ferna', 1721, 'Superplume', 1617, 'e4,d5,exd5,Nf6,Nf3,Qxd5,d3,e5,Be2,c5,c4,Qd6,Bg5,Be7,Nc3,h6,Bxf6,Bxf6,Ne4,Qe7,Nxf6+,Qxf6,Nd2,O-O,Ne4,Qb6,b3,Nd7,O-O,Nf6,Bf3,Rd8,Qe2,Rb8,Qe3,Nxe4,Bxe4,Bg4,Qg3,Qe6,f3,Bf5,Bd5,Qg6,Qxe5,Bxd3,Rf2,Re8,Qg3,Qf6,Rd1,Bg6,Rfd2,b5,Re1,Qc3,Qf2,Kh8,Bc6,Rxe1+,Qxe1,bxc4', 'Rd8+,Rxd8,Qxc3', 'https://lichess.org/training/jQ217');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQ2M6', 'Rapid', 'zashem', 1854, 'rezakamran12', 1759, 'd4,e6,Bf4,d5,e3,Bd6,c3,Bxf4,exf4,Nc6,Bd3,Nf6,Nf3,Qd6,g3,a6,Nbd2,b5,a3,Bb7,Qc2,h6,Ne5,Nd7,Bg6,Ndxe5,fxe5,Nxe5,Bh5,Nc4,f4,Qe7,Be2,Ne3,Qd3,Nf5,Nf3,c5,O-O-O,c4,Qd2,a5,g4,Nh4,Ne5,b4,a4,bxc3,Qxc3,f6,Nf3,Nxf3,Bxf3,Qb4,Qxb4,axb4,Rhe1,Kf7,f5,exf5,gxf5,Rxa4,Re6,Ra1+,Kc2,b3+,Kd2,Rha8,Rxa1,Rxa1,Rb6,Bc8,Bxd5+,Ke8,Rb8,Kd7', 'Be6+,Kd6,Rxc8', 'https://lichess.org/training/jQ2M6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQ4eE', 'Rapid', 'saeeed', 1676, 'abbasmufaddal', 1647, 'e4,c5,Qf3,Nf6,d3,d6,h3,g6,Ne2,Bg7,c3,O-O,Be3,Nbd7,Nc1,Ne5,Qg3,Nh5,Qh2,f5,Be2,Nf6,exf5,Bxf5,d4,cxd4,Bxd4,Nfd7,Bxe5,Bxe5,f4,Bg7,O-O,Qb6+,Kh1,Qxb2,Nd3,Qxe2,Na3,Qxd3,Rf3,Qd5,Qg1,Be4,Rf2,Bxc3,Rd1,Qc6,Nc2,Bxc2,Rxc2,Rxf4,Qe3,Rc4,Qxe7,Bf6,Qe6+,Kg7,Rxc4,Re8', 'Qxe8,Qxc4,Qxd7+', 'https://lichess.org/training/jQ4eE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JQ4RL', 'Blitz', 'Mistrkoty', 2220, 'portraitofpastorius', 2138, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,Ne4,Bh4,Nxc3,bxc3,Bg7,e3,c5,Qb3,cxd4,exd4,dxc4,Bxc4,O-O,Nf3,Nc6,Qa3,Re8,O-O,Qa5,Qb3,e6,d5,exd5,Bxd5,Be6,Rad1,Qxc3,Qxb7,Bxd5,Rxd5,Rab8,Qc7,Qc4,Rd7,Bh6,Bf6,Bg7,Bxg7,Kxg7,Ng5', 'Qxf1+,Kxf1,Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/JQ4RL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jq7d3', 'Blitz', 'guty', 1961, 'TiNours', 1874, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Qg4,f5,exf6,Nxf6,Qh4,Be7,Qg3,O-O,Be2,c5,Bh6,Rf7,Nf3,Nc6,Ng5,gxh6', 'Nxe6+,Kh8,Nxd8', 'https://lichess.org/training/Jq7d3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jq7Qv', 'Rapid', 'ESTEBAN_2020', 2153, 'laura232001', 1819, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,d3,Qxd5,Nc3,Bb4,Bd2,Bxc3,Bxc3,Be6,dxe4,Nxe4,Bxg7,Rg8,Rd1,Qa5+,c3,Nd6,Be5,Nc4,Bf6,Nd6,Nd4,Qxa2,Nb5,Kd7,Nxd6,cxd6,Be5,Nc6,Bxd6,Rge8,Bf4+,Bd5,Qxe8+,Rxe8+,Be2,Qc4,Be3,Qe4,Bf3,Qe6,Bxd5,Qe7,Bxf7+,Kc8,Bxe8,Qxe8,O-O,Ne5,Bxa7,Qg6,f4,Ng4,h3,Nf6,Bb6,Nd7,Rfe1,Qxb6+,Kh2,Qxb2', 'Re8+,Kc7,Re7', 'https://lichess.org/training/jq7Qv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jq86w', 'Rapid', 'pollosaurio81', 1881, 'thechesswiz13', 1890, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,g6,Nc3,Bg7,Qd3,O-O,Be3,Nc6,Qd2,d5,exd5,Nxd5,Nxd5,Qxd5,Nxc6,bxc6,Qxd5,cxd5,O-O-O,Rb8,Bd4,e5,Bxa7,Bh6+,Kb1,Ra8,Bc5,Rd8,Bc4,Be6,Bb3,Rac8,Be7,Rd7,Bf6,Bg7,Bxg7,Kxg7,Rhe1,f6,a4,Kf7,Ka2,d4,Bxe6+,Kxe6,Rd2,Ra8,b3,Rc8,b4,Rc4,Kb3,Rc3+,Kb2,Kd5,Rd3,Kc4,Rxc3+,dxc3+,Ka3,Rd2,Re4+,Rd4,Rxd4+', 'exd4,b5,d3,cxd3+,Kxd3', 'https://lichess.org/training/Jq86w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JQ8Pg', 'Rapid', 'ibc85', 2139, 'Kaeotic2', 2168, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,Bf4,a6,e3,Bf5,Qb3,Na5,Qa4+,b5,Nxb5,axb5,Bxb5+,Bd7,Ne5,Nc6,Nxc6,Rxa4,Nxd8,Bxb5,Nb7,Bc4,Nc5,Rxa2,Rxa2,Bxa2,O-O,Nd7,Ra1,Nxc5,dxc5,f6,Rxa2,e5,Bg3,Kd7,Ra8,Kc6,b4,g5,h4,h6,hxg5,hxg5,f4,gxf4,exf4', 'Bxc5+,bxc5,Rxa8', 'https://lichess.org/training/JQ8Pg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jqd8j', 'Rapid', 'Vassj', 2013, 'captaincomeback', 2003, 'e4,e5,Bc4,Bc5,c3,Nf6,d3,O-O,a4,a5,Nf3,Nc6,Nbd2,d6,Nb3,Ba7,h3,h6,O-O,Nh7,Be3,Kh8,Bxa7,Rxa7,Nh2,f5,f3,Qg5,Kh1,f4,Qe1,Nf6,Rg1,Nh5,Nf1,Rf6,Qf2,Rg6,Bf7,Rf6,Bxh5,Qxh5,Nh2,Rg6,d4,exd4,Nxd4,Ra6,Nf5,Bxf5,exf5,Qxf5,Rae1,Ne5,Ng4,Kh7,Nxe5,dxe5,Qc5,Rg3,Qxe5', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/jqd8j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQDuy', 'Rapid', 'Gordans', 1608, 'Malefoncort', 1616, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bb5,d6,O-O,a6,Bxc6+,bxc6,d3,g6,d4,Bg7,d5,cxd5,exd5,Bb7,Bg5,O-O,h3,Qd7,Bxf6,Bxf6,Qe2,c6,Rad1,cxd5,Nxd5,Bxd5,Rxd5,Qb7,c4,Rad8,Rfd1,Qc6,b3,Rfe8,Qd2,e4,Nd4,Qb6,Qe3,Be5,Qxe4', 'Bh2+,Kxh2,Rxe4', 'https://lichess.org/training/jQDuy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jqElN', 'Blitz', 'Earl_92', 1623, 'Benesiu', 1698, 'e4,c6,f4,d5,e5,Bf5,Nf3,e6,Be2,Nd7,O-O,c5,d4,Qb6,Kh1,Ne7,Na3,Nc6,c4,cxd4,cxd5,exd5,Bb5,Bxa3,Bxc6,Bxb2,Bxd7+,Bxd7,Rb1,Qa5,Bxb2,Qxa2,Nxd4,b6,Qb3,Qa5,Qa3,Qc5,Rfc1,Qxa3,Bxa3,Rc8,Rxc8+,Bxc8,Nc6,Bf5,Rc1,Kd7,Nxa7,Ra8,Nb5,Bd3,Nc7,Rxa3,Nxd5,b5,Rd1,Ke6,Nb4,Bc4,g4,Rb3', 'Rd6+,Ke7,Nc6+,Kf8,Rd8#', 'https://lichess.org/training/jqElN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JqF7A', 'Rapid', 'narayankumar', 1543, 'Yoneck', 1561, 'e4,c5,Bc4,e6,Nh3,d5,exd5,exd5,Bb3,c4,Ba4+,Bd7,Bxd7+,Qxd7,Qf3,Nf6,d4,Nc6,Na3,Nxd4,Qd1,Qe6+,Be3,Bc5,O-O,Bxa3,Bxd4,Bd6,Bxf6,gxf6,Re1,Be5,f4,Qb6+,Kh1,Qxb2,fxe5,fxe5,Qxd5,O-O,Rab1,Qxc2,Qxe5,Qd2,Qg3+,Kh8,Qe5+,f6,Qg3,c3,Rbc1,Rfe8,Rxe8+,Rxe8,Qxc3,Qxc3,Rxc3,Re2,Rc8+,Kg7,Rc7+,Kg6,Rxb7,a5,a4,Re1+,Ng1,Ra1,Rb3,Rxa4,Rg3+,Kf7,Nf3,Rb4,h4,a4,Nd2,Rxh4+,Rh3', 'Rxh3+,gxh3,a3,Nb3,a2', 'https://lichess.org/training/JqF7A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JQFA2', 'Rapid', 'tortob20', 2023, 'PSNIKOS1', 1949, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,f3,g6,Be3,Bg7,Qd2,Nc6,O-O-O,O-O,g4,Qa5,h4,Bxg4,Nxc6,bxc6,fxg4,Nxg4,Bd4,e5,Bg1', 'Bh6,Qxh6,Nxh6', 'https://lichess.org/training/JQFA2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jqFqd', 'Blitz', 'gukumuku', 1836, 'Thanks4PlayingWithMe', 1886, 'd4,d5,Bf4,h5,e3,e5,dxe5,g5,e6,gxf4,exf7+,Kxf7,c4,Bb4+,Nc3,Bxc3+,bxc3,fxe3,Qf3+,Nf6,fxe3,Bg4,Qf4,Re8,cxd5,Qxd5,Bc4,Rxe3+,Kf1,Qxc4+,Qxc4+,Kg6,h3,Bf5,Rd1,Nc6,Nf3,Rae8,Nh4+,Kg5,g3,Bd3+,Rxd3', 'Re1+,Kg2,R8e2+,Kf3,Ne5#', 'https://lichess.org/training/jqFqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQGaj', 'Rapid', 'ChickenBrests', 1684, 'Trial4life', 1670, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bg4,d3,e6,Be2,Bxf3,Bxf3,Be7,O-O,Nf6,Bg5,Nxe4,Bxe7,Qxe7,Bxe4,Nd7,Qg4,g6,Qf3,Nf6,c4,Nxe4,dxe4,O-O-O,a3,Rd4,b3,Rhd8,Rfd1,f5,exf5,exf5,Re1,Qc7,Red1,a5,Rxd4,Rxd4,Rd1,Qd8,Rxd4,Qxd4,g3,Qa1+,Kg2,Qxa3,Qd1,Qc5,Qe2,b5,Qe6+,Kb7,Qf7+,Kb6,cxb5,cxb5,Qxh7,Qd5+,Kh3,Qc6,Qh4,a4,bxa4,bxa4,Qd4+,Kb7,Qb4+,Qb6,Qxa4,Qxf2,Qd7+,Ka6,Qe6+,Qb6', 'Qxb6+,Kxb6,Kh4,Kc6,Kg5', 'https://lichess.org/training/jQGaj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JqHsX', 'Rapid', 'BAYTAR14', 1668, 'LilSpark', 1667, 'e4,d5,exd5,Nf6,Bc4,Nxd5,Qf3,Nf6,Nc3,Nc6,d3,Bg4,Qg3,e6,Bg5,Bd6,Qh4,Ne5,f4,Ng6,Qg3,h5,h3,h4,Qe3,Bf5,O-O-O,Qd7,Bxf6', 'Bxf4,Qxf4,Nxf4', 'https://lichess.org/training/JqHsX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jqhtg', 'Rapid', 'MobbDeep', 1902, 'Slon74', 2003, 'e4,c6,Nf3,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Bg4,Be2,Nd7,Be3,O-O-O,h3,Bh5,Ke1,a6,Nc3,f6,Na4,e5,Nb6+,Nxb6,Bxb6,Rd7,Rd1,Bg6,Bd3,Bb4+,Ke2,Ne7,a3,Bd6,Nh4,Bf7,Nf5,Nxf5,exf5,Re8,Be4,Bc7,Rxd7,Kxd7,Rd1+,Kc8,Bc5,Bc4+,Ke3,Bf7,a4,Rd8,Rxd8+,Kxd8,b3,b6,Bf8,g6,fxg6,hxg6,Bg7,Ke7,Bxc6,f5,Bh6,a5,Bg5+,Kd6,Bb5,Bd5,f3,f4+,Kd3,Be6,Be8,Bf5+,Kc4,Bxc2,h4,Bf5,Kb5,Bc2,Bf7,Bd3+,Bc4,Bf5,Bh6,Bd7+,Ka6,Bf5,Bf8+,Kd7,Kb7,Kd8,Be7+,Kxe7,Kxc7,e4,fxe4,Bxe4,Bf1,Bc2,Bc4,Be4,Bf1,Bc2,Kxb6,Bxb3,Kxa5,Bd5,Kb6,Kf6,a5,Kf5,a6,Kg4,a7,Kxh4,Kc7,Kg3,Kc8,g5,Kb8,g4,a8=Q', 'Bxa8,Kxa8,Kf2', 'https://lichess.org/training/Jqhtg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQldd', 'Rapid', 'msd47', 1898, 'heitz15', 1854, 'e4,c5,f4,d6,Nf3,Nc6,Bb5,Bd7,Nc3,Qc7,d4,cxd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,a6,O-O,Rd8,Be3,e6,Rad1,Nf6,e5,dxe5,Qxd7+,Rxd7,fxe5,Ng4,Rxd7,Kxd7,Rd1+,Kc7,Bf4,Bc5+,Kf1,Be3,Bg3,Rd8,h3,Rxd1+', 'Nxd1,Bc5,hxg4', 'https://lichess.org/training/jQldd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JQLft', 'Blitz', 'Handy-Andy', 2439, 'IM KamranShirazi', 2475, 'e4,e5,Nf3,Bc5,Bc4,Bxf2+,Kxf2,Nc6,Rf1,Qe7,d3,f5,Nc3,fxe4,Ng5,Nf6,Kg1,d5,Bb5,Qc5+,Kh1,Bg4,Bxc6+,bxc6,Qe1,O-O,dxe4,d4,Ne2,Qxc2,Ng3,h6,Nh3,Bxh3,gxh3,Nxe4,Rxf8+,Rxf8,Qxe4', 'Rf1+,Nxf1,Qxe4+', 'https://lichess.org/training/JQLft');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQMVX', 'Rapid', 'Rint2', 1888, 'Trashbin', 1839, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,c4,c5,h3,Bxf3,Qxf3,cxd4,cxd5,Qxd5,Qxd5,exd5,Bb5+,Nc6,Bf4,Bb4+,Nd2,Ne7,a3,Ba5,b4,Bb6,O-O,O-O,Nf3,Ng6,Bg3,Rfe8,Rfe1,a6,Bxc6,bxc6,Rac1,Rac8,Red1,c5,bxc5,Bxc5,a4,Ba7,Nxd4', 'Rxc1,Rxc1,Bxd4', 'https://lichess.org/training/jQMVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQOTK', 'Rapid', 'jaymed', 1687, 'patout', 1684, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Be6,Bb3,Bxb3,axb3,Nf6,Nc3,Be7,O-O,O-O,Bg5,c5,Qd2,Rb8,f3,b5,Rxa7,b4,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/jQOTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQPvi', 'Rapid', 'lokilo', 1637, 'santapolenta', 1629, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bc4,Bg4,Nf3,Qh5,Nb5,Na6,Bf4,e6,h3,Bd6,Bxd6,cxd6,Nxd6+,Ke7,Nxb7,Rab8,Bxa6,Rxb7,Bxb7,Rb8,b3,Rxb7,c4,Rd7,Qe2,Rxd4,Qe3', 'Re4,O-O,Rxe3', 'https://lichess.org/training/jQPvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JQQoN', 'Blitz', 'GM MrBochwalt', 2783, 'GM maciek_92', 2660, 'd4,f5,c4,Nf6,g3,g6,Bg2,Bg7,Nf3,O-O,O-O,d6,Nc3,Qe8,b3,e5,dxe5,dxe5,e4,Nc6,Nd5,Rf7,exf5,Bxf5,Bb2,Rd8,Nh4,e4,Nxf5,gxf5,Rc1', 'Nxd5,cxd5,Bxb2', 'https://lichess.org/training/JQQoN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JqqrG', 'Rapid', 'tranh', 1908, 'Joseph2900', 1954, 'Nf3,d5,d4,Nf6,Nbd2,c5,e3,Nc6,dxc5,e5,Bb5,Bg4,h3,Bxf3,Nxf3', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/JqqrG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JQsOu', 'Rapid', 'bowline', 1889, 'ronniak', 1994, 'd4,f5,c4,e6,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,e4,e5,Nf3,exd4,Nxd4,fxe4,Nxe4,Qe7,f3,O-O,Be2,Re8,O-O,Bxd4+,Qxd4,Nc6,Qd3,d6,Rae1,Bf5,Bd1,Ne5,Qb3,b6,Qc3,d5,Ng3,Qc5+,Kh1,d4,Qc1,Nd3,Rxe8+,Rxe8,Qd2,Bg6,Ne4,Bxe4,fxe4,Ne5,b4,Qxc4', 'Bb3,Qxb3,axb3', 'https://lichess.org/training/JQsOu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JQT18', 'Rapid', 'AloizioM', 1620, 'Seachess', 1608, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Nf6,Qe2,Be7,d4,a6,Bxc6+,bxc6,dxe5,dxe5,Nxe5,O-O,Nxc6,Qd6,Nxe7+,Qxe7,f3,a5,O-O,Ba6,c4,Qb4,Nd2,Rad8,a3,Qa4,b3,Qd7,Rd1', 'Qd4+,Qf2,Qxa1', 'https://lichess.org/training/JQT18');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JqTG7', 'Rapid', 'TTHI', 2385, 'Iliancherakchiev', 2135, 'd4,Nf6,c4,c6,Nc3,d5,cxd5,cxd5,Bf4,Bf5,e3,Nc6,Bd3,Bxd3,Qxd3,e6,Nf3,Bd6,Bxd6,Qxd6,h3,O-O,g4,Nd7,a3,Rfe8,O-O,a6,Rac1,Rac8,Rc2,Na5,Rfc1,Nc4,e4,b5,e5,Qe7,Ne1,Ndb6,f4,Qh4,Ng2,Qe7,f5,Qg5,Qf3,exf5,Qxf5,Qxf5,gxf5,Rc7,Ne2,Rce7,Nef4,g5,Nh5,Rd8,Nf6+,Kg7,h4,h6,b3,Nxe5,dxe5,Rxe5,Nh5+,Kf8,Rc6,Nd7,Rxh6,Rxf5,Re1,Kg8,hxg5,Rxg5,Kh2,Nc5,b4,Ne4,Nhf4,Nd2,Rh3,Kg7,Rd1,Nc4,Rg3,Rxg3,Kxg3,d4,Nd3,Kf6,Kf4,Rg8,Nh4,Ne3,Rd2', 'Rg4+,Kf3,Rxh4', 'https://lichess.org/training/JqTG7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQtmG', 'Rapid', 'Omoi6', 1807, 'ponposo', 1647, 'd4,Nf6,c4,g6,Nf3,d5,Nc3,Bg4,h3,Bxf3,exf3,Bg7,Bg5,c6,Be2,Nfd7,O-O,O-O,Re1,Re8,cxd5,c5,d6,f6,dxe7,Rxe7,Bc4+,Kh8,Rxe7,Qxe7,Be3,Nc6,Nd5,Qd6,Bf4,Qf8,dxc5,Nxc5,Rc1,Rd8,Bd2,Ne5,Qe2,Nxc4,Rxc4,Qd6,Bb4,b6,Bxc5,bxc5,Nc3,f5,g4,Bf6,f4,Bd4,Nb5,Qxf4,Nxd4,cxd4,Qe7,Qd6,Qf7,d3', 'Rc7,Qxc7,Qxc7', 'https://lichess.org/training/jQtmG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQtqe', 'Blitz', 'AlessandroTronca', 1877, 'Stanojev_Aleksandar', 1883, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,c4,Bg4,h3,Bh5,Qb3,b5,d3,e6,Ne5,Qd6,Bf4,Rc8,g4,g5,Bg3,f5,exf5,exf5,cxb5,f4,gxh5,Qxe5+,Kd2,fxg3', 'Re1,Qxe1+,Kxe1,g2,Qe6+,Ne7,Qg4', 'https://lichess.org/training/jQtqe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jqtx1', 'Blitz', 'Jesim', 2101, 'highlytalented', 2201, 'e4,e5,Nf3,Bc5,Bc4,Nf6,c3,O-O,d3,d6,Bg5,c6,a4,Qb6,O-O,Qxb2,Ra2,Qb6,Bxf6,gxf6,a5,Qc7,d4,exd4,cxd4,Bb4,Qb3,Bxa5,Nh4,Bb6,d5,Nd7,Nf5,Nc5', 'Qg3+,Kh8,Qg7#', 'https://lichess.org/training/Jqtx1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jqVPK', 'Classical', 'T_TuRaN_T', 2043, 'Benuard', 1983, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,O-O,O-O,Re1,Re8,d4,exd4,cxd4,Bb4,Bd2,Qe7,e5,Bxd2,exf6', 'Qxe1+,Nxe1,Rxe1+,Qxe1,Bxe1', 'https://lichess.org/training/jqVPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JqvTe', 'Blitz', 'Enescan24', 1617, 'MaNaS_Deo', 1632, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e5,Nf3,d6,c4,Nf6,Nc3,Be7,Bg5,O-O,Bxf6,Bxf6,Be2,Nd7,O-O,Nc5,b4,Ne6,Nd5,Ng5,Nd2,Be6,Nxf6+,Qxf6,Re1,Rac8,Rc1,Rfd8,Nf1,h6,Ng3,Bd7,Nh5,Qe7,h4,Ne6,Bg4,Qxh4,Bxe6,Bxe6,Ng3,Rxc4,Rxc4,Bxc4,Qc2,Bb5,Qc7,Bc6', 'Nf5,Qf6,Ne7+,Kf8,Qxd8+', 'https://lichess.org/training/JqvTe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jqwCe', 'Blitz', 'sloppay', 1775, 'Smeagol7', 1736, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Nge7,c4,O-O,Nc3,Qa5,Bd2,Re8,Nd5,Qd8,Nc7,Nd4,Bd3,Ng6,Nxe8,Qxe8,O-O,Qd8,Bc3,Nf3+,gxf3,Qg5+,Kh1,Nf4,Rg1,Qh5,Bxe5', 'Qxf3+,Rg2,Qxg2#', 'https://lichess.org/training/jqwCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jqWTy', 'Blitz', 'JackSmith_17', 1833, 'kislajos', 1750, 'e4,e5,Nf3,d6,h3,Nc6,Bc4,h6,d3,Nf6,Nc3,Be7,O-O,O-O,Be3,Re8,Nd2,a6,f4,b5,Bd5,Nxd5,Nxd5,Nd4,c3,Ne6,f5,Ng5,Nf3,Nxf3+,Rxf3,Bg5,Bxg5,hxg5,f6,c6,Ne3,gxf6,Qf1,Kg7,Qf2,d5,Rf1,d4,Rxf6,dxe3,Rxf7+,Kg8,Qf3,Be6,Rf6,Rf8', 'Rg6+,Kh8,Qh5#', 'https://lichess.org/training/jqWTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JqWV4', 'Rapid', 'Cbandeira', 1677, 'Surikaata', 1652, 'e4,c5,Nc3,d6,Nf3,Nc6,h3,g6,Bc4,Bg7,Ng5,e6,d3,Nge7,a4,d5,exd5,exd5,Bb5,d4,Nce4,O-O,Nxc5,Ne5,O-O,a6,Bc4,Nxc4,dxc4,b6,Nce4,h6,Nf3,Re8,Re1,Nf5,Bf4,Bb7,Nd6,Rxe1+,Nxe1,Qd7,Nxf5,Qxf5,Qd2,Re8,Nf3,Re4,Bxh6,Bxh6,Qxh6,Re2,Re1', 'Bxf3,Rxe2,Bxe2', 'https://lichess.org/training/JqWV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JQXCQ', 'Rapid', 'm-nihad', 1931, 'Molesses-like', 1956, 'Nf3,e6,d4,d5,g3,c5,Bg2,Nc6,dxc5,Bxc5,O-O,h6,a3,Nf6,b4,Bb6,Bb2,O-O,Kh1,Re8,Nc3,a6,Na4,Ba7,Rc1,b5,Nc5,Bxc5,bxc5,e5,Re1,Ne4,Kg1,Nxc5,Nh4,e4,f4,g5,fxg5,hxg5,e3,gxh4,Qh5,Kf8,Qh8+,Ke7,Bf6+,Kd7,Bh3+,Kc7', 'Bxd8+,Rxd8,Qxh4', 'https://lichess.org/training/JQXCQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQXmc', 'Blitz', 'CM TwoKnightsTim', 2251, 'ferrabraz', 2274, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,Bd7,O-O-O,Rc8,Bb3,Nxd4,Bxd4,b5,Nd5,Nxd5,Bxg7,Kxg7,Bxd5,Qc7,h4,h5,g4,Rh8,g5,a5,Qd4+,Kg8,Rd2,e6,Bb3,a4,Qxd6,axb3,axb3,Qa5,Kb1,Bc6,Rhd1,b4,Qe7,Be8', 'Rd8,Rxd8,Rxd8,Qxd8,Qxd8', 'https://lichess.org/training/jQXmc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JqxwZ', 'Blitz', 'WIM qween1', 2299, 'Candidatino', 2170, 'e4,c5,Nc3,a6,f4,b5,Nf3,Bb7,d3,b4,Nd5,e6,Ne3,d5,Be2,dxe4,dxe4,Qxd1+,Bxd1,Bxe4,O-O,Nf6,Nc4,Nbd7,Re1,Be7,Nfe5,Bd5,Nxd7,Nxd7,Ne3,Bc6,f5,O-O,fxe6,fxe6,Bg4,Rf6,Nc4,Bd5,Ne3,Be4,Bd2,Ne5,Bh3,Rd8,Rad1,Rg6,Rf1,Bg5,Bc1,Rxd1,Rxd1,Bxe3+,Bxe3,Bxc2,Rd8+,Kf7,Bxc5,Nd3', 'Rf8#', 'https://lichess.org/training/JqxwZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jqYNZ', 'Blitz', 'CM rovbar', 2112, 'Michael-Andres', 1914, 'b4,Nf6,Bb2,d6,e3,g6,c4,Bg7,d4,O-O,a3,Re8,Nc3,Nbd7,Bd3,e5,d5,e4,Be2,Ne5,h4,Neg4,Nh3,Nh5,Bxg4,Bxg4,Qxg4,Nf6,Qe2,Qd7,Nf4,c6,h5,cxd5,cxd5,Rac8,Rc1,Qf5,hxg6,fxg6,O-O,Ng4,Nb5,Bxb2,Qxb2,Rcd8,Rc7,Ne5,Ne6,Qg4,Nxd6', 'Nf3+,Kh1,Qh4#', 'https://lichess.org/training/jqYNZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jqypm', 'Classical', 'Copernicium7', 2018, 'AnaSantos', 1910, 'd4,e5,dxe5,d6,exd6,Bxd6,Nc3,Be6,Nf3,Nc6,Bg5,Nf6,e3,Qe7,Bb5,Qd7,Qd2,Nd5,Nxd5,Bxd5,O-O-O,Bxf3,gxf3,f6,Bf4,O-O-O,Bxd6,cxd6,Qd5,Qc7,Rd3,Nb4,Qd4', 'Qxc2#', 'https://lichess.org/training/jqypm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jQzH2', 'Rapid', 'jeoWhite', 1879, 'double_squeeze', 2162, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bd3,e6,Bg5,Qa5+,Bd2,Qc7,O-O,Ngf6,Re1,Be7,Qe2,O-O,Ne5,Nxe5,dxe5,Bxd3,Qxd3,Rfd8,Qe2,Nd7,f4,b5,Ne4,Nb6,Rad1,Rd7,Be3,Nd5,g3,Rad8,Bc5', 'Bxc5+,Nxc5,Qb6', 'https://lichess.org/training/jQzH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JR0Iq', 'Blitz', 'shpeksila', 1671, 'Junkie900', 1788, 'e4,e5,Bc4,Nf6,d3,Bc5,Bg5,O-O,Nc3,c6,Qf3,Be7,Nge2,d6,Ng3,Bg4,Qe3,Nbd7,h3,Be6,Nf5,Bxc4,Nxe7+,Qxe7,dxc4,Qe6,b3,Nh5,O-O,f6,Bh4,Nf4,Bg3,g5,Bxf4,gxf4,Qf3,Rf7,g3,Rg7,g4,Nf8,Kh2,Ng6,Qg2,Nh4,Qh1,Kf7,Nb1,Rxg4,hxg4,Qxg4,Nd2,Rg8,Rg1,Nf3+,Nxf3', 'Qh5+,Nh4,Qxh4#', 'https://lichess.org/training/JR0Iq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jr3e0', 'Rapid', 'faij', 1695, 'wiatrrak80', 1615, 'e4,e6,f4,d6,Nf3,c5,Bb5+,Nd7,O-O,a6,Be2,b5,c4,Bb7,d3,bxc4,Nc3,cxd3,Qxd3,Ngf6,f5,Qb6,Kh1,Ng4,fxe6,fxe6,Ng5,c4,Qxc4,d5,exd5,Nf2+,Rxf2,Qxf2,Nxe6,Rc8,Qe4', 'Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/jr3e0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JR3Xq', 'Rapid', 'uriulet', 1668, 'AusRGra', 1772, 'd4,Nf6,Nc3,d5,Bd2,Nbd7,e3,e5,dxe5,Nxe5,Be2,Be7,Nf3,Ng6,O-O,O-O,Bd3,Bg4,h3,Be6,Qe2,Re8,Bxg6,fxg6,Ng5,Bf5,g4,Bd7,f4,c5,Rf2,Bc6,Rh2,Qb6,h4,d4', 'Qc4+,Bd5,Nxd5', 'https://lichess.org/training/JR3Xq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jr3ZS', 'Blitz', 'FM nemtsevguru', 2400, 'Smile_xc', 2086, 'e4,e6,d4,d5,Nc3,Bb4,Be3,b6,a3,Bxc3+,bxc3,dxe4,f3,Bb7,Bb5+,Nd7,Qe2,Nf6,O-O-O,a6,Bc4,Qe7,Kb2,c5,fxe4,Bxe4,Nf3,b5,Bd3,Bxd3,Qxd3,cxd4,Bxd4,Nc5,Qe3,Na4+,Kb3,Qc7,Ne5,Nd5,Qg3,f6,Qg4,f5,Qh5+,g6,Nxg6,hxg6,Qxh8+,Kd7,Qxa8', 'Qc4#', 'https://lichess.org/training/jr3ZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jR4fS', 'Rapid', 'altaets', 1800, 'Matedor', 1645, 'e4,c5,Bc4,Nc6,Nf3,e6,O-O,g6,Be2,Bg7,c3,Nf6,d3,d5,exd5,Nxd5,h3,O-O,Nh2,b6,a3,Bb7,Nd2,Qc7,Ndf3,Nf4,Bxf4,Qxf4,Qd2,Qc7,Ng4,Rad8,Qc1,Rd7,Nh6+,Kh8,Ng4,Kg8,Nh6+,Kh8,Rb1,Rfd8,Ng4,Kg8,b4,cxb4,axb4,Nb8,c4,Bxf3,gxf3,Nc6,Rd1,Nd4,Qe3,Nxe2+,Qxe2,Qf4,Rb3,h5,Ne3,Be5,Kf1,Qh2,Ke1,Qxh3,Kd2,Qh2,Re1,Bg7,Nf1,Qf4+,Kc2,Qb8,Qe4,Rd4,Qe3,R8d7,Nd2,Qd8,Ne4,Rxd3', 'Rxd3,Rxd3,Qxd3', 'https://lichess.org/training/jR4fS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JR4MI', 'Rapid', 'omidx1366', 1640, 'Benlevif', 1811, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,exd4,Qxd4,Be6,O-O,Nf6,Bg5,Qxd4,Nxd4,Be7,Nc3,Rd8,Rad1,h6,Bxf6,Bxf6,Nxe6,Rxd1,Nxc7+,Kd7,Rxd1+,Kxc7,Na4,Re8,Nc5,Bxb2,Rd7+,Kb6', 'Na4+,Ka7,Nxb2', 'https://lichess.org/training/JR4MI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jr5lu', 'Bullet', 'Subramanian55', 1724, 'palatar', 1851, 'e4,e5,Nf3,d6,Nc3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bd3,Be7,O-O,O-O,f4,h6,Kh1,c6,Qf2,Ng4,Qg3,Kh8,h3,Bh4,Qf3,Nf6,e5,Nh7,f5,d5,f6,Rg8,Qh5,Bg5,Bxg5,Nxg5,fxg7+,Rxg7,Qxh6+,Kg8,Rf6,Nh7,Bxh7+,Rxh7,Qg5+,Rg7,Qh4,Be6,Raf1,Qb6,Rh6,Kf8,Rh8+,Rg8,Qh6+,Ke7,Qf6+,Kd7,Rxg8,Rxg8,Ne2,Qe3,Nf4,Qg3,Rg1,Bxh3,Qxf7+,Kc8,Nxh3,Rh8,Qe6+,Kc7,Qd6+,Kb6,Qb4+,Kc7,Qc3,Qf2,Qf3,Qc5,Qf7+,Kb6,e6,Qe3,e7', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/Jr5lu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jrawh', 'Blitz', 'AdiLim', 2219, 'FM dilwending', 2239, 'c4,e5,g3,Nf6,Bg2,c6,Nc3,d5,cxd5,cxd5,d4,exd4,Qxd4,Nc6,Qa4,Be7,Nf3,O-O,O-O,d4,Rd1,Qb6,Nb5,Rd8,Nbxd4,Nxd4,Nxd4,Bc5,Be3,Ng4,Rac1,Nxe3,fxe3,Bg4,Rd3,Bxe2,Rdc3', 'Bxd4,Qxd4,Rxd4', 'https://lichess.org/training/Jrawh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRbeZ', 'Classical', 'vishunayak', 1781, 'nepali_idiot01', 1809, 'e4,d5,Nf3,dxe4,Ng5,Nf6,d3,exd3,Bxd3,Nc6,Nc3,Bg4,f3,Bh5,Be3,e6,Qe2,Bb4,Bd2,Qe7,Nce4,O-O-O,O-O-O,Bxd2+,Rxd2,Nd5,Bb5,f5,Bxc6,bxc6,Nc5,Qxg5,Qxe6+,Kb8,Qxc6,Qxd2+,Kb1,Qb4', 'Na6+,Kc8,Nxb4', 'https://lichess.org/training/jRbeZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRBRR', 'Blitz', 'Centurion65', 1650, 'escipion123', 1586, 'e4,Nf6,Nc3,d5,e5,Nfd7,d4,e6,f3,a6,Bd3,c5,Nce2,Nc6,c3,cxd4,cxd4,Bb4+,Bd2,Qa5,Nh3,Bxd2+,Qxd2,Qxd2+,Kxd2,f6,f4,fxe5,fxe5,O-O,Nef4,Nxd4,Raf1,Nc5,Bb1,Bd7,Ng5,h6', 'Bh7+,Kh8,Ng6#', 'https://lichess.org/training/jRBRR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JRccA', 'Classical', 'kaka1349', 2270, 'mateusz195', 2186, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,e6,b3,Be7,Bb2,O-O,Re1,a5,Nd2,Ba6,Nf3,Bxd3,Qxd3,Ne4,Rad1,Bf6,Bxf6,Qxf6,c4,Nc3,Ra1,dxc4,Qxc4,Rfc8,Qg4,a4,b4,a3,h3,Rab8,Ne5,Rb5,Nd7,Qe7,Nc5,Nd5,Rab1,Rcb8,Qg3,Rxb4', 'Qxb8+,Rxb8,Rxb8+', 'https://lichess.org/training/JRccA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jrDEO', 'Rapid', 'knightking007', 1729, 'zachbcam', 1710, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,h6,Bf4,Bd6,Bxd6,Qxd6,Qb3,b6,e3,Bb7,c5,bxc5,Qxb7,cxd4,Qxa8,O-O,Nxd4,Qb4,Be2,Qxb2,Rb1,Qxc3+,Kf1,Nbd7,Qxa7,Ne4,Nb5,Qc2,Re1,Ne5,f3,Nd2+,Kf2,Nd3+,Bxd3', 'Ne4+,Kf1,Qf2#', 'https://lichess.org/training/jrDEO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JRE7l', 'Rapid', 'LuisAtake', 2043, 'MazetasGR', 1936, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ne5,h5,Bc4,Nh6,d4,d6,Nd3,Bg7,c3,c5,Nxf4,cxd4,cxd4,Bd7,Nxh5,Qa5+,Nc3,Qxh5,g3,Nc6,Be3,O-O-O,O-O,a6,Nd5,Qg6,Qc2,Kb8,Rad1,Rc8,Nb6,Rc7,Nd5,Rcc8,Qd3,Be6,Nf4,Qh7,d5,Ne5,Qe2,Rxc4,dxe6,fxe6,Nxe6,Rxe4,Ng5,Qg6,Nxe4,Qxe4', 'Ba7+,Kxa7,Qxe4', 'https://lichess.org/training/JRE7l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jrFZj', 'Rapid', 'jg21', 1728, 'Lozilian', 1669, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,d6,Nxc6,bxc6,Bd3,Nf6,O-O,g6,Bg5,Bg7,Nd2,O-O,Nf3,Qb6,Rb1,Ba6,e5,dxe5,Nxe5,Rad8,Qe2,Bb7,Nc4,Qc5,Be3,Qd5,Bxa7,c5,Ne3,Qg5,f3,Ra8,Bb6,Rxa2,Bc4,Raa8,b3,Rad8,Bxd8,Rxd8,Rbd1,Rd4,Rxd4,cxd4,Ng4,Nh5,Bd3,Nf4,Qd2', 'Nh3+,gxh3,Qxd2', 'https://lichess.org/training/jrFZj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRh7d', 'Rapid', 'valdeilton', 1975, 'Yarry', 1990, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c5,Bg5,dxc4,e3,cxd4,Nxd4,Be7,Bxc4,O-O,O-O,a6,Qc2,b5,Bd3,h6,Bh4,Bb7,Rfd1,Nd5,Nxd5,Bxd5,Bg3,Qc8,Qe2,Nc6,Rac1,Nxd4,exd4,Qb7', 'Rc7,Qb6,Rxe7', 'https://lichess.org/training/jRh7d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jrHc6', 'Rapid', 'poiuyt5', 1968, 'joseagf', 1902, 'd4,d5,e3,c5,c3,e5,dxe5,Be6,f4,f6,Nf3,Nc6,Bb5,Rc8,O-O,a6,Bxc6+,Rxc6,Nbd2,Ne7,exf6,gxf6,Nh4,h5,f5,Bf7,Qf3,Rg8,Nb3,Rg4,g3,Re4,Bd2,Bh6,Rad1,Bg5,Ng6,Nxg6,fxg6,Bxg6,h4,Bh6,c4,dxc4,Na5,Rd6', 'Nxb7,Qe7,Nxd6+', 'https://lichess.org/training/jrHc6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jrIAs', 'Blitz', 'piti007', 1834, 'pampaverde', 1692, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Bd7,dxc5,Bxc5,O-O,Nh6,b4,Be7,Bxh6,gxh6,b5,Na5,a4,O-O-O,Nd4,Kb8,Nd2,Rhg8,Bxh7,Rg7,Bd3,Rdg8,g3,Bb4,cxb4,Qxd4,bxa5,Rxg3+,hxg3', 'Rxg3+,Kh1,Qh4#', 'https://lichess.org/training/jrIAs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRJvN', 'Rapid', 'RiverShoulders', 1964, 'PatrickBoocannon', 1923, 'e4,e5,Nf3,Nc6,Bb5,f5,Nc3,Nf6,exf5,d6,d4,exd4,Nxd4,Bd7,Bxc6,bxc6,O-O,c5,Ne6,Bxe6,fxe6,Be7,Bg5,O-O,Qe2,c6,Rad1,Re8,Rfe1,Rb8,Na4,Rb4,b3,Re4,Qa6,Rxe1+,Rxe1,Qc7,Qd3,Nd5,Bxe7,Qxe7,c4,Nf4,Qf3,Qf6,Qxc6,Rxe6,Qc8+,Kf7,Rxe6', 'Qa1+,Re1,Qxe1#', 'https://lichess.org/training/jRJvN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jrK2z', 'Rapid', 'NM bebado', 2315, 'alan20bross', 2370, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Qg4,O-O,Bd3,c4,Bh6,Ng6,Bxg6,fxg6,Be3,Qb6,Nf3,Nc6,h4,Qb2,Kd2,Na5,Rhb1,Nb3+,Kd1,Qxc3,cxb3,cxb3,Ne1', 'b2,Rxb2,Qxb2', 'https://lichess.org/training/jrK2z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jrk4x', 'Rapid', 'IgnatAR', 2009, 'Cum_brain', 2055, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Be7,e5,c5,Nf3,Nc6,Bb5,cxd4,Nxd4,Bd7,O-O,Nxe5,Bxd7+,Nxd7,Nf3,Bf6,Ba3,Be7,Bxe7,Qxe7,Qd4,O-O,Rad1,Nf6,Rfe1,Rfc8,Qb4,Qc7,Re3,Nd5,Rxd5,exd5,Re7,Qxc3', 'Re8+,Rxe8,Qxc3', 'https://lichess.org/training/jrk4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jrKBs', 'Rapid', 'RumenAngelov', 1733, 'Coteyko12chess', 1882, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,d3,Bg4,h3,Be6,O-O,g6,b3,Bg7,Bb2,O-O,Nbd2,b5,Ng5,Bc8,Qe2,Bb7,Rab1,a5,e5,Nd5,e6,f6,Nf7,Qc8,c4,Nf4,Qe3,Nxe6,Nh6+,Kh8,Ng4,Qd7,Rfe1,Bc8,Nf3,Re8,Rbd1,Nd4,Nxd4,cxd4,Bxd4,e5,Bc5,b4,f3,Qf7,d4,Bxg4,hxg4,exd4,Qxd4,Rxe1+,Rxe1,Re8,Rxe8+,Qxe8,Kf2,f5,Qf4,Be5,Qg5,fxg4,Qxg4,Kg7,Bd4,Bxd4+,Qxd4+,Kg8,f4,Qe7,g3,c5,Qd5+,Kg7,Qe5+,Qf6,Kf3,Kf7,Qxf6+,Kxf6,Ke4,Ke6,g4,Kf6,Kd5', 'h5,gxh5,gxh5', 'https://lichess.org/training/jrKBs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JRMHy', 'Rapid', 'Tkd_adnan', 1736, 'MainManHakun', 1752, 'e4,e5,h3,Nc6,g3,Nf6,Bg2,Bc5,d3,d6,Nf3,O-O,O-O,Be6,Nbd2,b5,a3,Nd4,c3,Nxf3+,Nxf3,Bb6,Bg5,h6,Bd2,Nd7,g4,g5,d4,exd4,cxd4,f6,h4,Bxg4,hxg5,fxg5,Bh1,Bxd4', 'Qb3+,Kh7,Nxd4', 'https://lichess.org/training/JRMHy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRmjz', 'Blitz', 'ListigerTrunkenbold', 2013, 'naderbeyraghi', 2099, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be3,Qb6,b4,cxb4,cxb4,Bxb4+,Bd2,Nxd4,Nxd4,Qxd4,Bxb4,Qxb4+,Nd2,Ne7,Rb1,Qd4,Rxb7,Qxe5+,Qe2,Qa1+,Rb1,Qxa2,Qg4,O-O,Bd3,f5,Qb4,Ng6,O-O,Ne5,Rb2,Nxd3,Qxf8+,Rxf8,Rxa2,Bb5,Rxa7,Re8,Rb1,Bc4,Rbb7,Nf4,Rxg7+,Kh8,Rxh7+,Kg8,Nf3,Rb8,g3', 'Rb1+,Ne1,Rxe1#', 'https://lichess.org/training/jRmjz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jrmmC', 'Rapid', 'AKUMARGMASTER2019', 1759, 'taipbkc', 1850, 'e4,g6,Nf3,Bg7,d4,d5,e5,Nc6,Nc3,e6,Be3,Nge7,Bb5,Nf5,O-O,Nxe3,fxe3,O-O,e4,dxe4,Nxe4,f5,Nc5,Bd7,Bxc6,Bxc6,Nxe6,Qd7,Nxf8,Rxf8,c3,Bb5,Re1,Qd5,e6,Bc6,e7,Re8,b3,g5,c4,Bxd4+,Qxd4,Qa5,Ne5,Rxe7,Rf1,Rxe5,Qd8+,Re8,Qxg5+,Kh8,Rxf5,Qb6+,Kf1,Bxg2+,Qxg2,Rg8,Rg5', 'Qf6+,Ke2,Rxg5', 'https://lichess.org/training/jrmmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRN5l', 'Rapid', 'sekhavatpor', 1767, 'Budiwahyudin68', 1753, 'e4,c5,Bc4,e6,c3,d6,d3,Nf6,h3,Be7,Nf3,e5,Ng5,O-O,Be3,Nd5,Nxf7,Kxf7,Bxd5+,Ke8,Qh5+,Kd7,Nd2,Nc6,Qg4+,Kc7,Qe2,Bg5,O-O-O,Bxe3,Qxe3,Qf6,Nf3,Be6,Bxe6,Qxe6,Ng5,Qxa2,Ne6+,Kb6,Nxf8,Rxf8,Kc2,Na5,Rb1,Qb3+,Kd2,d5,exd5,Qxd5,f3', 'Nc4+,Ke2,Nxe3', 'https://lichess.org/training/jRN5l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRN78', 'Rapid', 'welberms', 1811, 'Chelin99', 1793, 'e4,c5,e5,e6,c3,Nc6,f4,d6,Nf3,dxe5,fxe5,b6,d4,Bb7,Bb5,f6,O-O,fxe5,Nxe5,Qc7,Nf7,Bd6,Nxh8,Bxh2+,Kh1,O-O-O,Qg4,cxd4,Qxe6+,Kb8,Rf7,Nge7,Bxc6,Bxc6,Rxe7,Rd7,Re8+,Kb7,cxd4,Bxg2+,Kxg2,Qg3+,Kf1,Qd3+,Qe2,Rf7+,Kg2', 'Qg3+,Kh1,Qg1#', 'https://lichess.org/training/jRN78');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JrPDi', 'Rapid', 'schueers', 1959, 'leo2255', 1958, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d6,Nbd2,O-O,c4,Re8,Be2,Nbd7,O-O,e5,dxe5,dxe5,Bg3,e4,Nd4,Nc5,Qc2,a5,Rfe1,Ng4,Rab1,Bxd4,exd4,Qxd4,b4,axb4,Bxg4,Bxg4,Rxb4,Nd3,Rbb1,Nxe1,Rxe1,Rad8,Nb3,Qd3,Qc1,c6,Bf4,Qd1,Rxd1,Rxd1+,Qxd1,Bxd1,h3,Bxb3,axb3,Ra8,Kh2,Ra3,b4,c5,bxc5,Rc3,Be3,Rxc4,Kg3,f5,Kf4,Kf7,Ke5,h5,h4,Rc2,g3,Rb2,Kd6,Rb1,Kc7,Ke6,c6,bxc6,Kxc6,Kf6,Kd5,Rb5+,Kc4,Ra5,Kb4,Ra1', 'Bd4+,Ke6,Bxa1', 'https://lichess.org/training/JrPDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JrpRN', 'Classical', 'LjuboCro', 1856, 'PsyVenture', 1757, 'd4,Nf6,Nf3,g6,c4,Bg7,h3,d6,Bf4,O-O,Nc3,Re8,e3,Nbd7,Be2,e5,dxe5,dxe5,Bxe5,c6,O-O', 'Nxe5,Nxe5,Qxd1,Rfxd1,Rxe5', 'https://lichess.org/training/JrpRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jrqag', 'Blitz', 'Panag', 1504, 'Vibes91', 1700, 'd4,Nf6,e3,g6,Bd3,d5,f4,Bg7,Nd2,c5,c3,cxd4,exd4,Nc6,Ngf3,O-O,O-O,Bg4,h3,Bd7,Ne5,Nh5,Qf3,Nxe5,fxe5,e6,g4,Qg5,Nb3,Qh4,gxh5,f6,hxg6,fxe5,gxh7+,Kh8,Qg4,Rxf1+,Bxf1,Qf6,Bg5,Qf7,dxe5,Bxe5,Bg2,Bb5,Bf1,Rf8,Bxb5', 'Qf2+,Kh1,Qh2#', 'https://lichess.org/training/Jrqag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRQQZ', 'Blitz', 'darrylmax1234', 1795, 'naguiroc', 1939, 'd4,f5,e3,Nf6,Nf3,e6,Nc3,Be7,Bb5,O-O,O-O,c6,Bc4,d5,Qd2,dxc4,a4,Nbd7,b3,cxb3,cxb3,Nb6,Ba3,Bxa3,Rxa3,Nbd5,Nxd5,Nxd5,Ne5,Qf6,Rc1,f4,e4,Ne7,Nf3,g5,Rc5,g4,Rg5+,Kh8,Rxg4,Bd7,Qb4,b6,Qd6,Be8,e5,Qf7,Ng5,Qf5,h3,Ng6,Nxe6,Rg8,Rg5,Qb1+,Kh2,Bf7,Nxf4,Nxf4', 'Qf6+,Rg7,Qxg7#', 'https://lichess.org/training/jRQQZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRSAN', 'Blitz', 'koo125', 1574, 'octacortes', 1617, 'e4,c5,c3,d6,d4,cxd4,cxd4,e6,Nc3,Nc6,Nf3,Nf6,Bg5,Be7,Bb5,Nxe4,Bxe7,Nxc3,Bxd8,Nxd1,Rxd1,Kxd8,O-O,Bd7,d5,exd5,Rxd5,Rc8,Rxd6,Kc7,Rd2,Rhd8,Rc1,Kb8,Rcd1,Be8', 'Rxd8,Rxd8,Rxd8+,Nxd8,Bxe8', 'https://lichess.org/training/jRSAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRSYr', 'Rapid', 'sasha111', 2172, 'foytik', 2209, 'd4,Nf6,Nf3,e6,Bg5,Be7,Nbd2,d6,e3,Nbd7,c3,h6,Bh4,e5,Bd3,O-O,h3,Re8,O-O,c6,Re1,Qc7,Bg3,g6,Qc2,Bf8,Rad1,Bg7,e4,b5,dxe5,dxe5,b4,a6,c4,Qb7,a4,bxc4,Bxc4,Qxb4,Qa2,Rf8,Rb1,Qe7,a5,Ne8,Bb3,Nd6,Rec1,Bb7,Bh4,g5,Bg3,c5,Qc2,Nb5,h4,Na3,Qa2,Nxb1,Rxb1,Rab8,hxg5,hxg5,Nf1,Bxe4,Re1,Bxf3,gxf3,Qf6,Kg2,Rb4,Ne3,Rfb8', 'Nd5,Qd6,Nxb4', 'https://lichess.org/training/jRSYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JRV2X', 'Classical', 'olonkho', 1959, 'Dommak', 2020, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Be7,d3,O-O,O-O,Na5,Bb3,d6,h3,Nxb3,axb3,h6,Nh2,c6,f4,exf4,Rxf4,a6,Rh4,Nh7,Rf4,Ng5,Ng4,f5,Nxh6+,gxh6,Qh5,Nh7,exf5,Bg5,Rg4,Bxf5,Bxg5,Bxg4', 'Qg6+,Kh8,Bxd8', 'https://lichess.org/training/JRV2X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jrvPG', 'Rapid', 'Rainbulldozer', 1880, 'venkybehara', 1846, 'd4,d5,c4,e6,Nf3,Nf6,a3,c5,Nc3,cxd4,Nxd4,e5,Nf3,d4,Nb1,Nc6,e3,Be7,exd4,exd4,Be2,O-O,O-O,Bf5,b4,d3,b5,dxe2,Qxd8,Nxd8,Re1,Bd3,Ne5,Bxb1,Rxb1,Bd6,Nd3,Ne6,Rxe2,Nd4,Rd2,Bf4,Nxf4,Rad8,Nd5,Nxd5,Rxd4', 'Nc3,Rxd8,Rxd8', 'https://lichess.org/training/jrvPG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jrwVf', 'Rapid', 'YeralyZholzhaxynov', 1729, 'berkyaruk', 1741, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,O-O,Be7,Nc3,O-O,Bg5,a6,h3,b5,Bd3,Bb7,Qe3,Re8,h4,h6,Bf4,Nh5,Bxh6,Bxh4,Bf4,Nxf4,Qxf4,Bg5,Qh2,Bf6,f4,b4,Nd5,Bxd5,exd5,Bxb2,Rae1,Bc3', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/jrwVf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRwy4', 'Blitz', 'Lanzo32', 2141, 'WIM Olenahess', 2143, 'd4,d6,g3,c5,Bg2,cxd4,Qxd4,Nc6,Bxc6+,bxc6,Nf3,Nf6,Bg5,e5,Qd3,Be7,Nbd2,O-O,O-O,Qc7,Rad1,d5,e4,Rd8,Qe2,Bg4,Kg2,Qd7,exd5,cxd5,Qxe5,Bh3+,Kg1,Bxf1,Rxf1,Ng4', 'Qxe7,f6,Qxd7', 'https://lichess.org/training/jRwy4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jrYAY', 'Classical', 'selton1p', 2025, 'igor102', 2102, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,d6,O-O,b5,Be3,Nd7,c3,Bb7,Nd2,Qc7,Qe2,Nc5,Bc2,Nf6,f3,Be7,Rad1,h6,N2b3,Na4,Bb1,g5,Bc1,Rg8,f4,gxf4,Rxf4,e5,Rxf6,Bxf6,Nf5,Be7,Nxh6,Rg6,Rf1,Bg5,Bxg5,Rxg5,Nxf7,Rg7,Nh6,O-O-O,Nf5,Rg5,Qd2,Rg6,Na5,Qxa5', 'Ne7+,Kc7,Nxg6', 'https://lichess.org/training/jrYAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jryjn', 'Rapid', 'Belissimo', 2033, 'Thato_Mokwena', 1969, 'e4,c5,c3,e5,Nf3,Nc6,d4,cxd4,cxd4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,d5,Nc3,Bb7,exd5,cxd5,Qa4+,Nd7,O-O,Be7,Bb5,a6,Bc6,Bxc6,Qxc6,O-O,Nxd5,Ne5,Nxe7+,Qxe7,Qc3,Rac8,Qg3,Ng6,Bg5,Qe2,Qe3,Qxb2,Rfe1,Qc3,Rac1,Qxe3,Bxe3,Rfe8,g3,Ne5,Kg2', 'Nd3,Red1,Nxc1', 'https://lichess.org/training/Jryjn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRyNA', 'Rapid', 'gacho99', 1775, 'ZandreW77', 1822, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,a6,d4,Ba7,Bxf7+,Kxf7,d5,Nce7,Nxe5+,Ke8,Bg5,d6,Nc4,h6,Bh4,Qd7,h3,Ng6,Bg3,Qf7,O-O,N8e7,e5,b5,exd6,Nf5,Re1+,Kf8,Ne5,Nxe5,Bxe5,cxd6,Bd4,Nxd4,cxd4,Qxd5,Nc3,Qxd4', 'Qf3+,Qf6,Qxa8', 'https://lichess.org/training/jRyNA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jRYsl', 'Blitz', 'Aspbaz005', 1797, 'Kathberry', 1801, 'e4,c5,d4,cxd4,Nf3,Nc6,Bc4,g6,O-O,Bg7,Ng5,e6,c3,d3,Bxd3,Nge7,f4,O-O,h4,f6,Rf3,fxg5,hxg5,d6,Rh3,e5,Bc4+,Kh8,Rh2,exf4,Kf2,Ne5', 'Rxh7+,Kxh7,Qh1+,Bh3,Qxh3+,Bh6,Qxh6#', 'https://lichess.org/training/jRYsl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JryZR', 'Blitz', 'Egger1', 2148, 'FM Oscar-i', 2292, 'd4,Nf6,Nf3,e6,Bg5,c5,e3,Be7,c3,h6,Bh4,O-O,Nbd2,b6,Bd3,Ba6,Bxa6,Nxa6,O-O,d5,Rc1,Nb8,Re1,Qc8,Ne5,Re8,f4,Nfd7,Bxe7,Rxe7,Qh5,Nxe5,fxe5,Nd7,Rf1,f6,exf6,Nxf6,Qg6,Qe8', 'Rxf6,Qxg6,Rxg6', 'https://lichess.org/training/JryZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JS3Np', 'Rapid', 'dikpushkin', 2021, 'lokjj', 2018, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,d6,Be2,c5,Nf3,cxd4,Nxd4,O-O,O-O,Nc6,Be3,a6,Qd2,Re8,Rfd1,Bg4,f3,Bc8,Nxc6,bxc6,Qc2,Qc7,Rac1,Rb8,b3,Bb7,Kh1,Nd7,Bd4,e5,Bf2,Rbd8,Bh4,Rb8,Bf2,Rbd8,Be3,Bf6,Rd2,Nf8,Rcd1,Ne6,Bf1,Nd4,Qb1,c5,Bxd4,exd4,Nd5,Bxd5,cxd5,Be5,Bd3,Ra8,Rc2,Qe7,g3,g5,Qc1,Kh8,Qd2,Rg8,Rcc1,Qf6,Rf1,Qh6,Qf2,a5,f4,gxf4,gxf4,Bg7,Rce1,Qh3,Qf3,Qh6,e5,dxe5,fxe5,a4,Qf4,Qh3,Qf3,Qh4,Re4,Qh6,Re2,axb3,axb3,f6,exf6,Bxf6,Qxf6+', 'Qxf6,Rxf6,Ra1+,Re1,Rxe1+', 'https://lichess.org/training/JS3Np');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('js6R0', 'Blitz', 'GardiNyo', 1614, 'Papori', 1565, 'e4,c5,Nc3,d6,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Bg5,e5,Bd3,Be7,Bxf6,Bxf6,Nd5,Be6,Nxf6+,gxf6,Qf3,Nd4,Qd1,Qb6,c3,Nc6,b4,O-O-O,a4,Ne7,a5,Qc7,Nf3,Ng6,Rc1,Nf4,Bb5,Kb8,a6,b6,c4,Bd7,O-O,Bxb5,cxb5,Qe7,Rc6,Rhg8,g3,h5,h4,d5,exd5,Rxd5,Qc2,Qxb4,Rc1,Rdd8,Rc7,Qxb5,Rb7+,Ka8,Qc7,Qxa6,Qxf7,Qxb7,Rc7,Qxf3', 'Rxa7+,Kb8,Qc7#', 'https://lichess.org/training/js6R0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('js9qf', 'Rapid', 'dan_the_man_ITA', 1801, 'Rajesh6815', 1854, 'd4,d5,Bf4,c5,e3,a6,a4,Nc6,c4,e6,Nf3,Nf6,Ne5,cxd4,exd4,Nxe5,Bxe5,Bb4+,Nc3,Ne4,Bd3,Nxc3,bxc3,Bxc3+,Ke2,Bxa1,Qxa1,O-O,Qb1,f6,Bxh7+,Kf7', 'Qg6+,Ke7,Qxg7+,Rf7,Bxf6+', 'https://lichess.org/training/js9qf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jsBe3', 'Rapid', 'gladiatorrrr', 2150, 'Harpy_Eagle', 2138, 'd4,e5,dxe5,Bc5,g3,d6,exd6,Ne7,Bg2,Nbc6,Nf3,cxd6,O-O,O-O,c3,d5,Nbd2,Bg4,Nb3,Bb6,h3,Bf5,Bf4,Qd7,Kh2,Ng6,Nbd4,Be4,Be3,Nxd4,Bxd4,Bc7,Nh4', 'Nxh4,Bxe4,dxe4', 'https://lichess.org/training/jsBe3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jsCXr', 'Rapid', 'kaisaw', 1785, 'TARDIS20072', 1668, 'e4,e5,Bc4,Nf6,Nc3,Be7,a3,O-O,h3,c6,Nf3,d6,d3,Be6,Ba2,Bxa2,Rxa2,g6,Bh6,Re8,Ng5,Nh5,Nf3,Nd7,Bd2,Nf4,Bxf4,exf4,O-O,Bg5,Ra1,Ne5,d4,Nxf3+,Qxf3,Qb6,Rfd1,Bh6,b4,g5,Re1,Bg7,Ne2,Bxd4,Nxd4,Qxd4,Rad1,Qf6,Qg4,h6,f3,Rad8,Rd3,d5,Red1,dxe4,Rxd8,Rxd8,Rxd8+,Qxd8,fxe4,Qd4+,Kh2,Qxe4,Qc8+,Kg7,Qxb7,Qxc2,Qxa7,f3,Qd4+,Kg6,Qg1,fxg2,Qxg2,Qxg2+,Kxg2,f5', 'a4,Kf6,a5,Ke6,a6', 'https://lichess.org/training/jsCXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jSEj2', 'Blitz', 'WIM artistic123', 2395, 'WFM Jojo08', 2153, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Bg5,Nc6,d5,Ne5,Nf3,h6,Bd2,Nfd7,O-O,c5,Nxe5,Nxe5,f4,Nd7,Be3,a6,a4,Rb8,Qd2,Nf6,h3,Bd7,e5,Ne8,f5,g5,e6,Bc8,Bxg5,hxg5,Qxg5,Nf6,Rf3,Nh7,Qg4,Kh8,Rg3,Rg8', 'exf7,Bd4+,Qxd4+', 'https://lichess.org/training/jSEj2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jsfB0', 'Rapid', 'stomatologiaJulia', 1819, 'cide37', 1804, 'd4,d5,Nf3,Nf6,h3,e6,Bf4,Bd6,Ne5,O-O,e3,Nc6,c3,Ne4,Nd2,Nxd2,Qxd2,Nxe5,dxe5,Be7,Bd3,f6,exf6,Bxf6,Qc2,h6,Bg3,e5,Bg6,e4,Qb3,c6,Bxe4,Kh8,Bf3,b6,Bh5,Bh4,O-O,Bxg3,fxg3,Be6,Qc2,Qg5,Qg6,Qxe3+,Kh1,Rxf1+,Rxf1,Qe5,Rf2,Qe1+,Kh2,Qxf2,Qxe6,Qc5,Be8,d4,cxd4,Qxd4,Bxc6,Rd8,b3,Qd2,a4,Qd6,Qe4,Rf8,Bd5,Qf6,Bc4,Qf5,Qb7,Qa5,Qe7,Rb8,Bb5,a6', 'b4,Qxb5,axb5', 'https://lichess.org/training/jsfB0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jSfSK', 'Rapid', 'nickolaos1', 1784, 'Schnuffelzahn-0815', 1776, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,Bxc3+,bxc3,O-O,Bd3,Nc6,Nf3,h6,e4,d6,d5,exd5,cxd5,Bg4,h3,Bh5,dxc6,bxc6,O-O,Re8,Qa4,Bxf3,gxf3,Qd7,Kh2,d5,exd5,Qxd5,Qc4,Qxf3,Rg1,Kf8,Qc5+,Re7,Ba3,Re8,Qe3,Qd5,Bxe7+,Rxe7,Qd4,Qf3,Rg3,Qd5,Qxd5,cxd5,Rb1,g6,Re3,Ne4,Bxe4,dxe4,Rbe1,f5,f3,Rd7,fxe4,f4,R3e2,g5,e5,Ke7,Kg2,Rd3,Rc1', 'f3+,Kf2,fxe2', 'https://lichess.org/training/jSfSK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JSFxH', 'Blitz', 'LookingForMates', 1621, 'CHESSM4TE', 1601, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,f3,a6,Be3,Nbd7,Qe2,Ne5,Bb3,b5,Rad1,Bb7,a3,Rc8,Rfe1,Nc4,Bxc4,Rxc4,Qd3,Nd7,b3,Rc8,Nce2,Ne5,Qd2,f5,exf5,Qd7,fxg6,Nxg6,Ng3,Rc6,Nxc6,Qxc6,Bg5,Ne5,Bxe7,Rxf3,Qxd6', 'Rf1+,Kxf1,Qxg2#', 'https://lichess.org/training/JSFxH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JSHgI', 'Rapid', 'Neron291', 1703, 'MatheusMelo47', 1719, 'e4,c5,Bc4,Nc6,Nf3,g6,d3,Bg7,c3,e6,h3,Nge7,Be3,d5,exd5,exd5,Bb5,b6,O-O,O-O,Bg5,h6,Bf4,Bf5,Qd2,d4,cxd4,Nxd4,Nxd4,Bxd4,Na3,Bg7,Nc4,a6,Bxa6,Rxa6,Nd6,b5,Nxf5,Nxf5,g4,Nd4,Kg2,Qd5+,Kg3,g5,Be3,Be5+,f4,gxf4+,Bxf4,h5,g5,Nf5+,Kh2,Nh4,Qf2,Rg6,Qxh4,Qxd3,Rad1,Bxf4+,Qxf4,Qe2+,Kh1,Re8', 'Qxf7+,Kh8,Qxg6,Qe4+,Qxe4', 'https://lichess.org/training/JSHgI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JSi4L', 'Rapid', 'Gerhardson', 1708, 'Bokicorleone', 1713, 'e4,c6,Nf3,d5,e5,f6,d4,fxe5,Nxe5,e6,c4,Bb4+,Nc3,Nf6,a3,Bxc3+,bxc3,O-O,c5,Qa5,Bd2,Ne4,Rc1,Nxf2,Qe2,Nxh1,Qg4,Nf2,Qg3,Ne4,Qe3,Nxd2,Qxd2,Nd7,Nd3,Nf6,Be2,Qc7,g3,Ne4,Qe3,Qa5,Nb4,Qxa3,Rc2,Nxc3,Qxc3,Qxc3+,Rxc3,a5,Nd3,a4,Ra3,b5,cxb6,Ba6,Nc5,Bxe2,Kxe2,Rfb8,b7,Ra7,Nxe6,Kf7,Nc5,Ke7,Kd3,Kd6,h4,Kc7,Ne6+,Kxb7,Nxg7,Kb6,Ne6,Kb5,Nc5,Kb4,Ra1,a3', 'Rb1+,Ka5,Rxb8', 'https://lichess.org/training/JSi4L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jsi4X', 'Rapid', 'n877591', 1678, 'A62', 1743, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Nc3,Bxb5,Nxb5,a6,Nd4,e5,Nf5,Qd7,Qg4,Nf6,Nxg7+,Bxg7', 'Qxg7,Rg8,Qxf6', 'https://lichess.org/training/Jsi4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jSK6j', 'Rapid', 'R-J', 1648, 'lutekhin', 1624, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Be7,Nxd4,O-O,Nxc6,bxc6,Re1,Bb7,Nc3,d5,exd5,Nxd5,Nxd5,cxd5,Bxd5,Bxd5,c4,Bb7,Qxd8,Bxd8,Bf4,h6,Re3,g5,Rg3,Kh7,Be5,f6,Bc3,c5,Rd1,Bc7,Rd7+,Kg6,Rxc7,Be4,Re3,Bc2,Rxc5,Rad8,h3,h5,Rf3,Rd1+,Kh2,g4,hxg4,hxg4,Rg3', 'Rh8+,Rh3,gxh3', 'https://lichess.org/training/jSK6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JSkVV', 'Rapid', 'ritschie', 1846, 'desertpatzer', 1887, 'e4,e5,Nf3,d6,Bc4,h6,c3,c6,a4,Bg4,Bxf7+,Kxf7,Nxe5+,dxe5,Qxg4,Nf6,Qe2,Bc5,Qc4+,Nd5,Qxc5,b6,Qc4,Rf8,exd5,cxd5,Qe2,Qg5,O-O,Kg8,d4,Qg6,Qxe5,Nc6,Qxd5+,Kh8,Nd2,Rf5,Qc4,Raf8,Ne4,Na5,Qa2,h5,Be3,h4,b4,Nb7,c4,h3,Ng3,hxg2,Kxg2,Qg4,Qe2,Rf3,h3', 'Rxg3+,fxg3,Qxe2+', 'https://lichess.org/training/JSkVV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JslzD', 'Rapid', 'Taheri1978', 1705, 'NaotoMatsui', 1894, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Bg4,h3,Bxf3,Qxf3,c6,a3,Nd7,Nc3,Qa5,Bd2,e6,Nb5,Qb6,Nc3,Qxd4,O-O-O,Bxa3,bxa3,Ne5,Qg3,O-O-O,Nb1,Nb6,Be2,Na4,Bc3,Nxc3,Rxd4', 'Nxe2+,Kb2,Nxg3', 'https://lichess.org/training/JslzD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JSM5m', 'Blitz', 'Tastywinegum', 1635, 'jojolafrittte', 1660, 'c4,e5,Nc3,Nf6,g3,Bc5,Bg2,Nc6,e3,d6,Nge2,Bg4,O-O,Qd7,f3,Bh3,b3,Bxg2,Kxg2,O-O-O,Bb2,h5,h4,g5,Rh1,gxh4,Rxh4,Rdg8,Qh1,Rg6,Rf1,Kb8,Ne4,Nxe4,fxe4,Rhg8,Rxh5,Qg4,Rf3,Qxe4,Rh8,Qd3,Rxg8+,Rxg8,Qf1,Qxd2,Rxf7,a5,Bc1,Qxa2,Qd1,a4,Rf2,axb3,Nc3,Qa5,Qxb3,Bxe3,Bxe3,Qa1,Rf1,Qa6,Rf2,Qa1,Rf1,Rxg3+,Kxg3,Qxf1,Nd5,Qe1+,Kf3,Na5,Qd3,Qh1+,Ke2,Qh2+,Bf2,Qh5+,Kd2,Qg5+,Be3,Qg2+,Kc3,b5', 'Qh7,b4+,Nxb4,Nxc4,Kxc4', 'https://lichess.org/training/JSM5m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jsmuB', 'Rapid', 'Tilopa_Hylott', 1888, 'Athob', 1804, 'e4,d6,d4,a6,f4,c5,dxc5,Nc6,cxd6,exd6,Nf3,g6,e5,Be6,b3,b5,Bb2,d5,Nd4,Nxd4,Qxd4,Ne7,Bd3,Nf5,Qf2,Qa5+,Bc3,b4,Bxf5,Bxf5,Bd4,Be6,O-O,Be7,Nd2,O-O,Nf3,h6,Rfc1,Kh7,Ba7', 'Rxa7,Qxa7,Bc5+,Qxc5,Qxc5+', 'https://lichess.org/training/jsmuB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JSNdp', 'Rapid', 'RodrigoA1811', 1760, 'BegZec', 1860, 'd4,e6,Bf4,Nf6,e3,d5,Bd3,Bd6,Nf3,Bxf4,exf4,O-O,Nbd2,Re8,Ne5,Nbd7,g4,Nxe5,fxe5,Ne4,f3', 'Qh4+,Kf1,Qf2#', 'https://lichess.org/training/JSNdp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jSp3D', 'Rapid', 'leo-71', 1794, 'zrsalari', 1812, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,d6,Bd2,Nf6,f4,Bg4,Be2,Bxe2,Qxe2,exf4,Bxf4,Be7,O-O,O-O,e5,dxe5,Bxe5,Re8,Qf3', 'Bc5+,Kh1,Rxe5', 'https://lichess.org/training/jSp3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jspch', 'Rapid', 'moses32', 1750, 'newt1969', 1748, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nf6,Qe6+,Qe7,Qc4,h6,Nf3,Kd7,Be3,a6,c3,Rd8,Na3,Kc8,Qb3,Ng4,O-O,g5,Nc4,Bg7,Qc2,b5,Ncd2,Rdf8,c4,Nxe3,fxe3,Nb4,Qc3,c5,cxb5,axb5,a3,Nc6,b4,Kd7,bxc5,dxc5,Rfc1,g4,Ne1,Qf6,Qxc5', 'Qf2+,Kh1,Qf1+,Nxf1,Rxf1#', 'https://lichess.org/training/Jspch');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JsPd2', 'Rapid', 'DChiuch', 1884, 'AkaSly', 1907, 'e4,Nc6,Nc3,Nf6,d4,e5,dxe5,Nxe5,Bg5,Bc5,Bxf6,Qxf6,f3,Qh4+,g3,Qf6,Be2,Qb6,Nh3,d6,a4,Bxh3,Nd5,Bf2+,Kd2,Qa5+,b4,Qxd5+,exd5,O-O,f4,Ng6,Bd3,Rae8,Qf3,Be3+,Kc3,c5,bxc5,dxc5,Kb3,Bd4,Rae1,f5,d6,Rd8,Qd5+,Kh8,c3,Bf6,Bxf5,Bxf5,Qxf5,Rxd6,Re6,Ne7,Rxe7,Bxe7,Qe4,c4+,Qxc4,Rb6+,Kc2,h5,h4,Bf6,Rg1,Rc6,Qd5,Bxc3,Qxh5+,Kg8,Kb1,Rb6+,Ka2,Rd8,Rg2,Rd4,Qe8+,Kh7,Ka3,Bb4+,Ka2,Bc5,Qh5+,Kg8,Qxc5,Rxa4+,Qa3,Rxa3+,Kxa3,Ra6+,Kb3,Rb6+,Kc3,a5,Kd3,a4,Ra2,Ra6,Kc4,b5+,Kb4,Rb6,Ka5,Rb8,Ra3', 'b4,Rxa4,b3', 'https://lichess.org/training/JsPd2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JSSl1', 'Rapid', 'Minecraftado', 1898, 'ogota', 1955, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qc3,e6,exf6,Bb4,Bg5,Bxc3+,Nxc3,d5,O-O-O,O-O,h4,h5,g4,d4,Ne4,e5,gxh5,gxh5,Bh6,Bg4,Bd3,Qa5,Neg5,Qxa2,Bh7+,Kh8', 'Bg7#', 'https://lichess.org/training/JSSl1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JsSU6', 'Rapid', 'VadVansky', 1734, 'SleepyDragon', 1754, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,h3,Nf6,d3,O-O,Bg5,h6,Be3,Na5,Bxc5,dxc5,Bb3,Nxb3,axb3,Be6,O-O,b6,Re1,Qd6,Na3,c6,Nc4,Qc7,Ncxe5,Rfe8,Nc4,Rad8,Qe2,b5,Nce5,Bxb3,c4,bxc4,dxc4,Qb6,Ra3,Nd7,Nxd7,Rxd7,Qe3,Bxc4,Rc1,Bb5,Rb3,Red8,Rxc5,Rd3,Rxd3,Rxd3,Qc1,Rd1+,Qxd1,Qxc5,Qd8+,Kh7,e5,Qc1+,Kh2,Qxb2,Qd7,Qxf2,Qxf7,c5', 'Ng5+,hxg5,Qxf2', 'https://lichess.org/training/JsSU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jSSvl', 'Rapid', 'DemirAdamm', 2236, 'harmoniee', 1871, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,h6,d3,Nf6,a3,d6,b4,Bb6,h3,a6,Bd2,Be6,Bb3,Nd4,Nxd4,Bxd4,Rc1,g5,g4,Bxc3,Bxc3,h5,Rg1,hxg4,hxg4,Bxg4,Rxg4', 'Rh1+,Ke2,Rxd1', 'https://lichess.org/training/jSSvl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JSToO', 'Rapid', 'francsc', 1634, 'Rich_peach', 1627, 'e4,c5,b3,Nc6,Bb2,Nf6,d3,g6,Nc3,Bg7,Nf3,d6,d4,cxd4,Nxd4,O-O,Nxc6,bxc6,h3,Qa5,Qf3,Nxe4,Qxe4,Bxc3+,Bxc3,Qxc3+,Ke2,Qxa1,Qxc6,Qe5+,Kd1,Be6,Bd3,Qd5,Qa4,Qxg2,Be4,Bg4+,hxg4,Qxg4+,f3,Qf4,Rxh7,f5', 'Bd5+,Kxh7,Qxf4', 'https://lichess.org/training/JSToO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JSuMI', 'Rapid', 'Lloyd_Chesterfield', 2062, 'ol-_dr', 2121, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,a6,a4,Nc6,e3,Bb4,Qb3,Bxc3+,bxc3,h6,cxd5,exd5,Ba3,Be6,c4,Rb8,c5,Ne4,Bd3,Bf5,Ne5,Nxe5,dxe5,c6,f3', 'Qh4+,g3,Nxg3', 'https://lichess.org/training/JSuMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jSV9S', 'Rapid', 'Mtal04', 1885, 'romek1', 1651, 'e4,g6,d4,Bg7,Be3,d6,c4,h6,Nc3,a6,Qd2,g5,f3,Nc6,O-O-O,Bd7,Bd3,e5,d5,Nd4,Bxd4,exd4,Nce2,c5,dxc6,Bxc6,Bc2,Ne7,Nxd4,O-O,Nxc6,bxc6,Qxd6,Qxd6,Rxd6,Rab8,b3,a5,h4,gxh4,Rxh4,a4,Ne2,axb3,axb3,Ra8,Ng3,Ra1+,Kd2,Rg1,Rh2,c5,e5,Bxe5,Bh7+,Kxh7,Rdxh6+,Kg7,Rh7+,Kf6,Ne4+,Ke6,Nxc5+,Kd6,Ne4+,Kd7,g3,Bxg3,Nxg3,Rxg3,Ke2,Rfg8,Rxf7,Rg2+,Rxg2,Rxg2+,Kd3,Ke6,Rf4,Nc6,Re4+,Ne5+,Kc3,Rg3', 'Kd4,Rxf3,Rxe5+', 'https://lichess.org/training/jSV9S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JSWkc', 'Blitz', 'Jps23chess', 1665, 'ale71', 1646, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,Nbd7,cxd5,exd5,e3,Ne4,Bf4,Nxc3,bxc3,O-O,Qb3,c6,c4,Qa5+,Nd2,Nf6,Bd3,Bb4,Rd1,Bg4,f3,Bh5,g4,Bg6,Ke2,Bxd3+,Kxd3,Bxd2,Rxd2,dxc4+,Qxc4,Nd5,Bd6,Rfd8,Be5,c5,Rb1,Nb4+,Ke2,cxd4,Bxd4,Nc6,Rxb7,Nxd4+,Rxd4,Rxd4', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/JSWkc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jt280', 'Rapid', 'raygeo', 1758, 'Mr_Patatas777', 2221, 'd4,Nf6,e3,e6,f4,d5,Nh3,c5,c3,Nc6,Nf2,Bd6,Bd3,Bd7,g3,h6,Nd2,c4,Bc2,Qc7,Nf3,O-O-O,Ne5,Bxe5,fxe5,Nh7,Qg4,g5,e4,dxe4,Nxe4,f5,exf6,e5,Qe2,exd4,Qxc4,Bh3,Bd2,Bg2,Rg1,Bf3,Kf2,g4,Bf4,Qb6,Qe6+,Rd7,Nd6+,Kd8,Nf7+,Rxf7,Qxf7,Re8,Rge1,d3+,Kf1,Be2+,Kg2,Bf3+,Kf1,Be2+,Kg2,Ne5,Qd5+,Nd7,Bxd3', 'Bf3+,Qxf3,gxf3+', 'https://lichess.org/training/Jt280');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jt2B2', 'Rapid', 'Mrsmart11', 1729, 'mohamadhasan811', 1728, 'd4,Nf6,Bf4,g6,e3,Bg7,Nd2,O-O,Ngf3,d6,Be2,Re8,O-O,e5,dxe5,dxe5,Nxe5,Nd5,Nef3,Nxf4,exf4,Bxb2,Rb1,Bc3,Rb3,Bg7,Bc4,Nc6,Ng5,Rf8,Rd3,Qf6,Qf3,Bf5,Nde4,Bxe4,Nxe4,Qf5,Rfd1,Nb4,Rd7,Nxc2,Rxc7,Nd4,Qe3,Rad8,Ng5,Nf3+', 'Qxf3,Rxd1+,Qxd1', 'https://lichess.org/training/jt2B2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JT2ib', 'Rapid', 'romenlik12', 1829, 'gumalcan', 1826, 'e4,b6,d4,Bb7,e5,f6,Nf3,c5,Nh4,cxd4', 'Qh5+,g6,Nxg6', 'https://lichess.org/training/JT2ib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jT6c6', 'Blitz', 'vaquitachessII', 2484, 'CM gus_fring', 2432, 'c4,e5,g3,Nf6,Bg2,d5,cxd5,Nxd5,d3,Nc6,Nf3,Nb6,O-O,Be7,Nc3,O-O,Rb1,Be6,a3,f6,b4,a6,Be3,Nd5,Qc1,Nxe3,Qxe3,Qd7,Rfc1,Rfd8,Ne4,Nd4,Nc5,Bxc5,Rxc5,c6,a4,Ba2,Rb2,Bf7,Nxd4,exd4,Qf4,Qe7,h4,Re8,Bf3,Rad8,h5,h6,Kg2,Rd6,b5,cxb5,axb5,Rb6,Rc7,Qe5,Rxb7,Qxf4,gxf4,Rxb7,Bxb7,axb5,Bc6,Rb8,Rxb5,Rxb5,Bxb5,Bxh5,e3,Kf7,Kg3,Ke6,Bc4+,Kd6,Kh4,Be2,Kg3,g5,fxg5,fxg5,exd4,h5,f4,h4+,Kh3,Bf1+,Kg4,h3,Kg3', 'gxf4+,Kh2,f3', 'https://lichess.org/training/jT6c6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jt7LN', 'Rapid', 'lucasmbrito', 1746, 'RajArun', 1741, 'e4,g6,d4,Bg7,Nf3,Nc6,Bc4,e6,Bb3,d5,e5,Nge7,Bg5,O-O,Qd2,Qd7,h4,h5,Bf6,Nf5,g4,Nh6,gxh5,Kh7,Ng5+,Kh8,Qf4,Nf5,Ba4,Qe8,Bxc6,bxc6,Nd2,Ba6,h6,Bxf6,exf6,Nxh6,O-O-O,Be2,Nxe6,Nf5,Nxf8,Bxd1,Kxd1,Qxf8,h5,Kg8,h6,Kh7,Nf3,Qh8,Qxc7,Qxf6,Ng5+', 'Qxg5,Qxf7+,Kh8', 'https://lichess.org/training/Jt7LN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jT9YS', 'Rapid', 'whesss', 2134, 'Da1e', 2129, 'e4,c6,d4,d5,e5,Bf5,h4,h5,c4,e6,Nc3,Ne7,Bg5,Qb6,Qd2,dxc4,Bxc4,Nd7,Nge2,Nd5,O-O,Be7,Bxd5,cxd5,Bxe7,Kxe7,Qg5+,Kf8,Nxd5,exd5,Qxf5,Qe6,Qxe6,fxe6,Nf4,Kf7,Rac1,Rac8,Rxc8,Rxc8,Nxh5,Rh8,g4,g6,Nf4,Rxh4,f3,g5,Nh5,Ke7,Rc1,Kd8,Kg2,Nb6,b3,a5,Rc5,a4,Rb5,Kc7,Rc5+,Kd7,Nf6+,Kd8,bxa4,Nxa4,Ra5,Nb6,Rb5,Kc7,Ne8+,Kc6,Rc5+,Kd7,Nf6+,Kd8,Nh5,Nc4,Rb5,b6,a4,Kc7,Rb3,Kc6,Rb1,Kb7,Kg3,Ka6,f4,Nd2,Rg1,Ne4+,Kf3,Rh3+,Ng3,gxf4,Kxf4,Nf2,g5,Rh8,g6', 'Nh3+,Ke3,Nxg1', 'https://lichess.org/training/jT9YS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JtATE', 'Blitz', 'Zeko111', 1695, 'SayNo2War', 1690, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qb6,Rb1,Qxd4,Nf3,Qd8,Bd3,e6,O-O,Nf6,Bg5,b5,Ne4,Be7,Ne5,a6,Nxc6,Nxc6,Qf3,Bb7,Bxf6,gxf6,Rbd1,Qc8,c4,Ne5,Qe3,Nxd3,Rxd3,Qxc4,Nd6+,Bxd6,Rxd6,Qg4,f3,Qg5,Qb6,Rg8,g3,Bd5,Rd1,Qe5,Qc7,Rxg3+,hxg3,Qxg3+,Kf1,Qxf3+,Ke1,Qe3+,Kf1,Bc4+,Kg2,Qe2+,Kg3,Qe5+,Kf2,Qf4+,Ke1,Qg3+,Kd2,Qf2+,Kc3,Qe3+,Kb4,a5+,Qxa5,Rxa5', 'Rd8+,Ke7,R1d7#', 'https://lichess.org/training/JtATE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JTb2d', 'Rapid', 'guigas', 1872, 'udoyd100s0', 1915, 'e4,Nf6,e5,Nd5,d4,Nc6,Bc4,Nb6,Bb3,d6,Qf3,e6,d5,Nxe5,Qe4,exd5,Bxd5,Nxd5,Qxd5,c6,Qe4,Qe7,Be3,g6,Nf3,Nxf3+,Qxf3,Bg7,c3,O-O,O-O,h5,Nd2,d5,Nb3,Be5,Bc5,Bd6,Rfe1,Qc7,h3,Bh2+,Kh1,Bd6,Bd4,Bf5,g4,Be4,Rxe4,dxe4', 'Qf6,Be5,Bxe5,Qxe5,Qxe5', 'https://lichess.org/training/JTb2d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JtBcc', 'Blitz', 'quaerit', 1808, 'Bryancruz', 1971, 'd4,e6,Bf4,d5,Nf3,c5,Bg3,Nc6,e3,Nf6,c3,Ne4,Nbd2,Nxg3,hxg3,c4,Ne5,Nxe5,dxe5,b5,f4,a5,Qg4,Bd7,Nf3,g6,Ng5,h6,Nf3,Bg7,Nd4,b4,Kd2,Qb6,Rc1,bxc3+,bxc3,Rb8,Be2,Qb2+,Rc2,Qa3,Rhc1,O-O,Qh3,Ba4,g4,Bxc2,Rxc2,Rb2,g5,Rxc2+,Nxc2,h5,g4,Qxa2,gxh5,gxh5,Qxh5,Qb2,Bg4,a4,f5,Bxe5,g6,Qxc3+,Kd1,fxg6,Qxg6+,Bg7,Qxe6+,Kh8,Qg6,a3,Nxa3,Qxa3,f6,Rxf6,Qh5+,Kg8,Qe8+,Kh7,Qh5+,Rh6,Bf5+,Kg8,Qe8+,Bf8,Be6+,Kg7', 'Qf7+,Kh8,Qg8#', 'https://lichess.org/training/JtBcc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jtdyV', 'Blitz', 'Gillamenace', 2385, 'IM MannySen', 2451, 'd4,c5,d5,d6,e4,a6,a4,Nf6,Nc3,g6,h3,Bg7,Nf3,O-O,Be2,e6,O-O,e5,Nd2,Nbd7,Nc4,Nb6,Na3,Bd7,a5,Nc8,Nc4,Bb5,Na4,Bxc4,Bxc4,Nxe4,Qe2,f5,c3,Nf6,b4,cxb4,cxb4,e4,Bb2,Qe7,Bd4,Na7,Nb6,Rae8,b5,Nxb5,Bxb5,axb5,Qxb5,f4,Rae1,Qf7,Bxf6,Bxf6,Nd7,f3,Nxf8,Rxf8,Rxe4,fxg2,Kxg2,Be5,f4,Qf5,Qe2,Bf6,Rd1,g5,fxg5,Be5,h4,Qg6,Rxe5,dxe5,d6,Rd8,d7,Qc6+,Kh2,e4,Qa2+,Kg7,Qb2+,Kg8,Qf6,Qc2+,Kg3,Qc7+,Kg4,Rxd7,Qe6+,Rf7,Rf1,e3,h5,e2,Qe8+,Kg7,Rxf7+,Qxf7', 'h6+,Kg6,Qe4+,Qf5+,Qxf5#', 'https://lichess.org/training/jtdyV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jTDz5', 'Rapid', 'Abdurrahmanterzi', 1832, 'ChessWolf2002', 1831, 'd4,d5,e3,c5,Nf3,cxd4,Nxd4,Nf6,c4,e5,Nf3,Nc6,Nc3,Bb4,cxd5,Nxd5,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,Qa5,Qb3,O-O,Bd3,Be6,Qc2,f5,e4,Rac8,O-O,f4,a3,Bg4,Be2,Bxf3,Bxf3,Nd4', 'Qa2+,Kh8,cxd4', 'https://lichess.org/training/jTDz5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JteWv', 'Rapid', 'bob1000', 1923, 'brunogrossl', 1733, 'd4,e5,dxe5,f6,exf6,Nxf6,Nf3,Nc6,c3,d5,Bg5,Be7,Nbd2,h6,Bh4,O-O,b4,Bg4,Qb3,Kh8,Rd1,Qe8,h3,Bh5,e3,Rd8,Be2,Ne4,Bxe7,Qxe7,a3,Ne5,Nxe5,Qxe5,Bxh5,Qxh5,Nxe4,dxe4,O-O,Rxd1,Qxd1,Qe5,Qd4,Qxd4,exd4,Re8,Re1,Kg8,Re3,Kf7,f3,exf3,Rxf3+,Ke6,Re3+,Kf7,Rxe8,Kxe8,Kf2,Ke7,Kf3,Ke6,Kf4,g6,g4,c6,c4,b6,h4,a6,Ke4,Kd6,c5+,bxc5,dxc5+,Ke6,Kd4,Kf6,a4,Ke6,b5,cxb5,axb5,axb5,Kc3', 'Kd5,Kb4,Kc6', 'https://lichess.org/training/JteWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JTfTp', 'Rapid', 'mundus68', 1965, 'xaea-12', 1966, 'e4,e6,c3,d5,exd5,exd5,b4,Nf6,Bb2,c6,a4,Bd6,Nf3,Bg4,Be2,O-O,O-O,Qc7,g3,Bh3,Re1,h6,d4,Re8,Nbd2,Nbd7,c4,Nh5,c5,Bxg3,fxg3,Nxg3,Nf1,Nf5,Ra3,Qf4,Bc1', 'Qg4+,Ng3,Nxg3', 'https://lichess.org/training/JTfTp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jTGyx', 'Rapid', 'Juliocesardi', 1777, 'MueveteChile', 1775, 'e4,c5,d4,cxd4,Qxd4,d6,Nc3,Nf6,Be2,Nc6,Qe3,Bd7,Bd2,a6,O-O-O,Rc8,a3,g6,Nd5,Nxd5,exd5,Ne5,Bc3,h5,f4,Bf5,fxe5', 'Bh6,Qxh6,Rxh6', 'https://lichess.org/training/jTGyx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JTI06', 'Rapid', 'Romel_CazMar', 2002, 'amrovic', 1969, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Bg7,O-O,O-O,f4,Nc6,Nxc6,bxc6,Be3,h5,f5,Ng4,Qd3,Nxe3,Qxe3,Qb6,Qxb6,axb6,fxg6,fxg6,Rxf8+,Kxf8,Rf1+,Kg8,Bc4+,e6,Bb3,Bxc3,bxc3,d5,exd5,cxd5,Rd1,Bb7,c4,Rd8,cxd5,Bxd5', 'c4,Rc8,cxd5', 'https://lichess.org/training/JTI06');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JTIHZ', 'Classical', 'arbgtop0898', 2197, 'fersam', 1768, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,O-O,Bd7,Re1,c5,Qd3,Be7,Nc3,Nf6,Nd5,Nxd5,exd5,O-O,a4,Bg5,h3,a6,f4,Bh4,Rf1,Rb8,Bd2,b5,axb5,axb5,Ba2,Qf6,Bc3,Bf5,Qd2,Qg6,b4,c4,Qe3,Rfe8,Qf3,Be4,Qg4,Qxg4,hxg4,Bxc2,Bb1,Bxb1,Rfxb1,Re3,Be1,Bf6,Ra2,Re4,g3,g5,Kf2,Rbe8,fxg5,hxg5,Rd1,Rxg4,Kf3,Rge4,Bf2,g4+,Kg2,Kg7,Ra6,c3,Rxd6,Rxb4,Rc6,Rb2,Kf1,b4,Re1,Rxe1+,Bxe1,Rb1,Ke2,Rb2+,Kd3,Kg6,d6,Rb1,Ke2,Rc1', 'd7,Kg7,Rxf6,Kxf6,d8=Q+', 'https://lichess.org/training/JTIHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JTjB2', 'Blitz', 'NE-IGROK', 1572, 'Seba980', 1582, 'e4,e5,f4,exf4,Nf3,Nc6,d4,d5,e5,Bg4,Be2,Bxf3,Bxf3,Be7,O-O,Bg5,Nd2,Nxd4,c3,Nxf3+,Nxf3,Bh6,Qa4+,Qd7,Qb3,c6,Nd4,Ne7,Bxf4,Bxf4,Rxf4,O-O,Raf1,Ng6,R4f2,Nxe5,Nf5,f6,Re2,Rad8,Qc2,Ng6,Rfe1,Rfe8,Rxe8+,Rxe8,Rxe8+,Qxe8,Qf2,Qd7,Nd4,c5,Nb3,c4,Nc5,Qb5,Qe3,b6', 'Qe6+,Kf8,Nd7+,Qxd7,Qxd7', 'https://lichess.org/training/JTjB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jTjKS', 'Rapid', 'vishnevskiy', 1941, 'P_V_V', 2220, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,c5,g3,b6,Bg2,Bb7,dxc5,Bxc3+,bxc3,bxc5,O-O,O-O,Bg5,h6,Be3,Qa5,Qb3,Be4,Qb5,Nc6,Bxc5,Rfc8,Bb4,Nxb4,cxb4,Qxb5,cxb5,Rc4,a3,Rb8,Rfd1,d5,Nd2,Rc2,Nxe4,dxe4,e3,Rxb5,Rd8+,Kh7,Rd4,Rf5,Bxe4', 'Nxe4,Rxe4,Rfxf2', 'https://lichess.org/training/jTjKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jtL4j', 'Rapid', 'Rankless', 1832, 'Vitalii-2003', 1882, 'e4,b6,Nc3,Bb7,a3,e6,Nf3,Nf6,e5,Nd5,Nxd5,Bxd5,d4,d6,Bg5,Be7,Be3,Nd7,exd6,cxd6,Bb5,Rc8,Qe2,O-O,O-O,Qc7,c3,h6,Bd3,Nf6,Nd2,Qb7,f3,Nd7,Ba6,Qc6,Bxc8,Rxc8,Qf2,e5,Qg3,g5,h4,f6,hxg5,fxg5,f4,exf4,Bxf4,Rf8,Be3,Nf6,Bxg5,hxg5,Qxg5+,Kf7,Rae1,Rg8,Qh5+,Kf8,Qh6+,Ke8,Rxe7+,Kxe7,Qxf6+,Kd7,Qf5+,Kc7,Qh7+,Kb8,Ne4', 'Rxg2+,Kxg2,Bxe4+,Qxe4,Qxe4+', 'https://lichess.org/training/jtL4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JtlYP', 'Classical', 'lexspec', 1634, 'zanvix', 1624, 'e4,e5,Bc4,Nc6,Qf3,Nf6,Ne2,Nd4,Nxd4,exd4,d3,Qe7,Bg5,b5,Bxb5', 'Qb4+,Nd2,Qxb5,Bxf6,gxf6', 'https://lichess.org/training/JtlYP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jtnpi', 'Classical', 'Ayham70', 1856, 'mageed-al', 1761, 'e4,e5,f4,Nc6,Nf3,d5,Bb5,dxe4,Nxe5,Bd7,Nxd7,Qxd7,Qe2,Nf6,Nc3,O-O-O,O-O,Qd6,Nxe4,Nxe4,Qxe4,Qc5+,d4,Qxb5,a4,Qb6,c3,Bd6,b4,Rhe8,Qf5+,Kb8,a5,Qa6', 'b5,Qxa5,Rxa5', 'https://lichess.org/training/jtnpi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jToeD', 'Rapid', 'Adrusseuh', 2201, 'zoi_sf', 1949, 'e4,b6,d4,Bb7,e5,g6,Nc3,Bg7,Nf3,a6,h4,d6,h5,dxe5,h6,Bf6,Nxe5,Bxe5,dxe5,Qxd1+,Nxd1,e6,Bg5,Ne7,Ne3,Nbc6,O-O-O,Nxe5,Bf6,O-O,Bxe7,Rfe8,Bf6,Nc6,Ng4,Nb4,Bg7,f5,Nf6+,Kf7,Nxh7,Rad8,Ng5+,Ke7,Re1,Bd5,c3,Nc6,c4,Be4,h7,Nb4,a3', 'Na2#', 'https://lichess.org/training/jToeD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jtqG2', 'Rapid', 'nytcrawler022', 1887, 'blindfold100', 2017, 'e4,d5,exd5,e6,dxe6,Bxe6,Nc3,Nf6,Nf3,c6,Be2,Bd6,h3,Qc7,d3,Nbd7,Be3,O-O,Qd2,Nb6,g4,Nfd5,Nxd5,Nxd5,O-O-O,Nxe3,fxe3,Bxa2,Rhf1,Be6,Ng5,a5,Ne4,Be7,Rg1,a4,Kb1,a3,b3,Qb6,Ka2,Bb4,Qc1,Bc5,Nxc5,Qxc5,h4,b5,d4,Qe7,g5,b4,Bd3,c5,h5,Rfc8,Rdf1,c4,Qb1,cxb3+,cxb3,Rc3,Bxh7+,Kh8,Bc2,Rac8,Bd1,Rc1,Qd3,R1c3,Qd2,Qd6,g6,f6,h6,Qc6,h7,Qb5,Rxf6,Bf5,e4,Bxe4,Rgf1,Bxg6', 'Rf8+,Rxf8,Rxf8+,Kxh7,Qh2+,Qh5,Bxh5,Rc2+,Qxc2', 'https://lichess.org/training/jtqG2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jtqNg', 'Rapid', 'GCHQ', 1971, 'Adiinfo', 2272, 'd4,Nf6,Nf3,g6,c4,Bg7,Nbd2,d6,b3,O-O,Bb2,c6,e3,Nbd7,Be2,Qc7,O-O,e5,dxe5,Nxe5,e4,Re8,Nxe5,dxe5,Qc2,a5,a4,Bg4,Bxg4,Nxg4,h3,Nf6,Rad1,Nh5,g3,Qe7,Nf3,Qf6,Kg2,Qe7,Rd2,Rad8,Rfd1,f6,Ba3', 'Rxd2,Rxd2,Qxa3', 'https://lichess.org/training/jtqNg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JtQQL', 'Rapid', 'Riandi', 2139, 'Islamrajab', 1999, 'd4,Nf6,c4,e5,dxe5,Ng4,Nc3,Bc5,Nh3,Nxe5,Ng5,Nbc6,Qd5,Qe7,Nb5,Bb6,c5,Nb4,Qb3,Ba5,Bd2,Ned3+,Kd1,Nxf2+,Kc1,Qxc5+,Nc3,O-O,a3,Nxh1,axb4,Bxb4,Qc2,g6,Qe4,Nf2,Qh4,h5,Ra4,a5,Qf4,d5,Nf3,Ne4,Qh6,Bxc3,bxc3,Bf5,Rxe4,Bxe4', 'Ng5,Qa3+,Kd1,Qb3+,Ke1,Qb1+,Kf2', 'https://lichess.org/training/JtQQL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jtQyV', 'Classical', 'valeri-izmail', 2066, 'zero64', 2033, 'e4,c6,d4,d5,exd5,cxd5,h3,Bf5,Bd3,Bxd3,Qxd3,Qc7,Nf3,Nc6,c3,Nf6,O-O,e6,Nbd2,Be7,Re1,O-O,Ne5,Bd6,Nxc6,bxc6,Nb3,Nd7,Be3,e5,dxe5,Nxe5,Qc2,Nc4,Bc5,a5,Bxd6,Qxd6,Nd4,Rab8,b3,Na3,Qd3,c5,Nf5,Qf6,Ne7+,Kh8,Nxd5,Rfd8,c4,Qb2,Qe2,Qd4,Red1,Re8,Ne3,Qe4,Qb2,Nxc4,Nxc4,Qxc4,Qd2,Qe2,Qxa5,Ra8,Qxc5,Rxa2,Rxa2,Qxd1+,Kh2,Qxb3,Ra7,Qb8+,g3,f6,Rc7,Qb2,Rc8,Qe2', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/jtQyV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JTrWK', 'Rapid', 'Patoche2', 1895, 'dagci', 1899, 'e4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Ne5,f4,Nc6,Nxc6,bxc6,e5,Nd5,Nxd5,cxd5,Qxd5,c6,Qd4,Be7,Bc4,O-O,O-O,Qa5,Bd2,Qc7,Kh1,a6,Bc3,Bb7,e6,Bf6,exf7+,Kh8,Qd3,Bxc3,Qxc3,d5,Bd3,Qxf7,Rae1,Qh5,Re5,Qg4,h3,Qh4,Qd2,d4,Qf2,Qh6,Qxd4,c5,Qxc5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/JTrWK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jtsKE', 'Rapid', 'vijchauhan', 1961, 'Skenplefteris', 1916, 'd4,Nf6,c4,e6,Nf3,c5,e3,Nc6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Qa5,Bd2,cxd4,cxd4,Bb4,Bd3,Bxd2+,Nxd2,Nxd4,O-O,O-O,Nc4,Qg5,e5,Nc6,f4,Qe7,Qh5,h6,Rf3,Nd4,Rg3,Nf5', 'Bxf5,exf5,Qxh6', 'https://lichess.org/training/jtsKE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JTsTW', 'Blitz', 'bluebishop71', 2170, 'CM Marxivsko', 2089, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,Be3,Be7,O-O,O-O,f4,Qc7,f5,Bc4,Kh1,b5,a3,Nbd7,Bg5,Rac8,Bd3,Rfd8,Qe2,Bxd3,cxd3,h6,Be3,Nb6,Rac1,Qb8,Qf3,d5,exd5,Nbxd5,Ne4,Nxe4,dxe4,Nxe3,Rxc8,Qxc8,Qxe3,Qc4,Re1,Rd3,Qa7,Qxe4', 'Rxe4,Rd1+,Qg1', 'https://lichess.org/training/JTsTW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jTTHz', 'Rapid', 'Alexey_Karpov', 1971, 'harryc50', 1992, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bd3,Nf5,Bxf5,exf5,O-O,Be7,dxc5,Bxc5,Na3,Bxa3,bxa3,O-O,Re1,Be6,Nd4,Qa5,Bd2,Qxa3,Rb1,Qe7,Qc2,Nxd4,cxd4,Rac8,Qa4,a6,Bb4,Qg5,Bxf8,Rxf8,Rxb7,f4,f3,Qh4,Rc1,g5,Qxa6,g4,fxg4,Qxg4,Qd3,Bf5,Qf3,Qg5,Qxd5', 'f3,Qxf3,Qxc1+', 'https://lichess.org/training/jTTHz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jTTJs', 'Blitz', 'FM wanyaland', 2425, 'Queenkillah', 1831, 'e4,c5,Nf3,Nc6,d4,e6,Nc3,Nf6,e5,Nd5,Nxd5,exd5,dxc5,Bxc5,Qxd5,Qb6,Qd2,O-O,Bd3,Re8,O-O,Nxe5,Nxe5,Rxe5,Qf4,f6,Bd2,d5,Rae1,Bd6,Qh4,f5,Rxe5,Bxe5,Re1,Qf6,Bg5,Qe6,f4,Bd4+,Kh1,Qf7,c3,Bb6,Re7,Qg6,Qe1,h6,Bh4,Kf8,Re5,Bd7,g4,Bc6,gxf5,Qh5,Be2', 'd4+,Kg1,d3+', 'https://lichess.org/training/jTTJs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jttN1', 'Classical', 'renekamenik', 1644, 'Yousofjo', 1709, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,h3,d5,exd5,Qxd5,O-O,Be6,Nc3,Qd7,Bg5,Bxh3,Bxf6,gxf6,Qh5+,Ke7,Qxh3,Qxh3,gxh3,Nd4,Nd5+,Kd6,Nxf6,Rf8,Ne4+,Kc6,Nxc5,Kxc5,c3,Nf3+,Kh1,Nd2,Rfd1,Nf3,d4+,exd4,cxd4+,Kd5,Rac1,Rf7,Rc3,Nxd4,Rcd3,c5,b4,b6,bxc5,bxc5,f3,h5,Rg1,Kc4,Re3,a5,h4,Nxf3,Rf1,Ne5,Rxf7,Nxf7,Rf3,Ne5,Rf5,Nd3,Rxh5,Nc1,a4,Kb4,Rg5,Ne2,h5,c4,Rg4,Kb3,h6,c3,Rg5', 'c2,Rg1,Nxg1', 'https://lichess.org/training/jttN1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JttV8', 'Blitz', 'touhu', 1751, 'Plogams', 1689, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,c3,Nf5,d3,Nh6,d6,Qxd6,O-O,a6,Re1,Bg4,f3,Bh5,b4,b5,Bb3,Nd7,Nd2,Qe7,Nde4,f5,Ng3,Bf7,Nxf7,Nxf7,Nxf5,Qf6,Ng3,Bd6,Ne4,Qg6,Nxd6+,cxd6,Be3,O-O,a4,Kh8,Qe2,Ng5,Bd5,Rac8,axb5,axb5,Ra7,Nf6,Bb3,Nh5,Rea1,Nxf3+,Kh1', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/JttV8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jtuAt', 'Rapid', 'Shoryuken23', 1774, 'DeltaWolfishere', 1775, 'e4,c5,Nf3,d6,c3,Nf6,d3,g6,h3,Bg7,Be2,O-O,O-O,Nc6,Be3,e6,Nbd2,Bd7,Nc4,Qc7,Qd2,b5,Na3,a6,Nc2,Ne7,Bh6,d5,e5,Nh5,Bxg7,Nxg7,Qh6,Nef5,Qd2,Ne7,Rac1,Nc6,d4,c4,Qh6,Nf5,Qg5,Qd8,Qg4,Nce7,Ne3,a5,Bd1,Nxe3,fxe3,Nf5,Re1,Qe7,Bc2,b4,Bxf5,exf5,Qf4,a4,Qh6,f6,exf6,Qxf6,Ng5,Qe7,Nf3,b3,a3,Rae8,Ne5,Be6,h4,Qg7,Qg5,Qf6,Qg3,f4,exf4,Qxf4,Qxf4,Rxf4,g3,Rf5,Rf1,Ref8,Rxf5,Rxf5,Rf1,Kg7,Rxf5,Bxf5,Kf2,Kf6,Kf3,g5,hxg5+,Kxg5,g4,Be4+,Kg3,Bg6,Nf3+,Kf6,Kf4,h5,g5+,Ke6,Ne5,Be4,g6,Kf6,Nf7,Bxg6,Nd6,Bf7,Nc8,Be6,Nb6,h4,Nxa4,h3,Kg3,Kg5,Nc5,Bc8,a4,Kf5,Kxh3', 'Kf4+,Kh4,Ke3,a5,Kd2,a6,Bxa6', 'https://lichess.org/training/jtuAt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JtVD4', 'Rapid', 'luvicia', 1785, 'breetak', 1846, 'e4,d5,e5,c5,Nf3,Bf5,Bb5+,Nc6,d3,e6,Bxc6+,bxc6,O-O,Ne7,Bg5,h6,Bh4,g5,Bg3,Ng6,h3,Bg7,c3,Qc7,d4,cxd4,cxd4,c5,Re1,cxd4,Qxd4,Rc8,Nc3,O-O,Rac1,Qc4,Qxc4,Rxc4,Ne2,Rfc8,Rxc4,Rxc4,Nc3,g4,hxg4,Bxg4,Nd2,Rc7,f4,Ne7,Bf2,Nf5,Nb3,h5,g3,Bf8,Rc1,Rd7,Nb5,d4,N5xd4,Nxd4,Bxd4,Bb4,Bc3,Be7,a3,Rd3,Kf2,Bd8,Kg2,Bf3+,Kh2,Bb6,Rf1,Bg4,Nc1,Re3,Re1,Rf3,Rd1,Bf2,Be1,Kg7,Bxf2,Rxf2+,Kg1,Rxb2,Rd7,Rb1,Rc7,a6,Kf2,Rb2+,Kg1,Rd2,Rc6,Kg6,Rc3,Bf5,Nb3,Rd1+,Kf2,Rh1,Nc5,h4,gxh4,Rxh4,Kg3', 'Rh3+,Kf2,Rxc3', 'https://lichess.org/training/JtVD4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jTVgF', 'Blitz', 'c6c6c6', 1942, 'Ibrakaadabraa', 1936, 'd4,Nf6,Nc3,e6,Bf4,d5,e3,a6,Nf3,c5,dxc5,Bxc5,Bd3,Nc6,O-O,O-O,e4,d4,Ne2,Re8,e5,Nd5,Bxh7+,Kxh7,Ng5+,Kg8,Nxd4,Nxf4,g3,Nd5,Qh5,Bxd4,Qxf7+,Kh8,Qh5+,Kg8,Qh7+,Kf8', 'Qh8+,Ke7,Qxg7#', 'https://lichess.org/training/jTVgF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jtvvh', 'Rapid', 'jailtoncampos', 1991, 'dirilisertugrull', 1669, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,h6,Bh4,O-O,e3,c5,Bd3,cxd4,exd4,Nc6,O-O,Nb4,Be2,a6,a3,Nc6,Rc1,Bd7,Re1,Rc8,Bd3,Ng4,Bxe7,Nxe7,cxd5,Nxd5,Nxd5,exd5,h3,Nf6,Ne5,Re8,Qb3,Rc7,Rc3,Be6,Rec1,Rxc3,Rxc3,Ne4,Bxe4,dxe4,Qxb7,Qxd4,Nc6,Qd2,Qxa6,Bd5,Nb4,e3,fxe3', 'Qxg2#', 'https://lichess.org/training/jtvvh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jTW40', 'Rapid', 'Exshu', 1616, 'macruz', 1632, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,Re1,O-O,c3,d6,d4,exd4,cxd4,Bb6,Bxc6,bxc6,Nc3,Bb7,Bg5,h6,Bh4,Re8,e5,dxe5,dxe5,Qxd1,Raxd1,Ng4,h3,Nxe5,Nxe5,c5,Rd7,Bc6,Rxf7,Rxe5,Rxe5,Kxf7,Kf1,c4,b4,a6,a4,Bd4,Re7+,Kg8,Ne2,Bb6,Nf4,Bxa4,Ne6,Re8,Rxg7+,Kh8,Rg6,Kh7,Rg7+,Kh8,Rg6,Bc2', 'Bf6+,Kh7,Rg7+', 'https://lichess.org/training/jTW40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JtWcg', 'Classical', 'Sereish', 1766, 'Alanchess_live', 1794, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,e6,c4,Bd6,Nc3,Bxf4,Qxf4,a6,cxd5,Nxd5,Nxd5,exd5,Bd3,O-O,a3,Na5,Rc1,Nc6,Rc5,g6,h4,Qd7,h5,Rae8,hxg6,fxg6,Qh6,Nxd4,Bxg6,hxg6,Qh8+,Kf7,Qh7+,Ke6,Qxg6+,Rf6,Qg4+,Nf5,e4,Kd6', 'Rxd5+,Kc6,Rxd7', 'https://lichess.org/training/JtWcg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JtxvO', 'Rapid', 'SPARSH1233', 2100, 'shafieimobin', 2142, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,Bc4,Bg4,h3,Bh5,O-O,e6,d3,Be7,Be3,c6,Ne4,Nxe4,dxe4,Qxd1,Raxd1,Bxf3,gxf3,O-O,Kh2,b5,Bb3,Na6,Rd7,Bc5,c4,Bxe3,fxe3,Nc5,Rc7,Rfc8,Rxc8+,Rxc8,cxb5,cxb5,Rc1,Kf8,Bd1,a5,a3,Rc7,b4,axb4,axb4,Na6,Rxc7,Nxc7,Be2,Ke7,Kg3,e5,f4,Kd6,Kg4,f6,h4,g6,h5,Ke6,h6,Kd6,f5,g5,Kh5,Kc6,Bd1,Na6,Bb3,Nxb4', 'Bg8,Nd3,Bxh7', 'https://lichess.org/training/JtxvO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jty1f', 'Rapid', 'ash7594', 1976, 'Corleone_M', 1780, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,e5,Qa5+,Nc3,Qxe5+,Be2,d5,O-O,Nc6,Re1,Nxd4', 'Bb5+,Nxb5,Rxe5,Nxc3,bxc3', 'https://lichess.org/training/Jty1f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jtyMg', 'Rapid', 'Dudrenov', 1863, 'shihaza', 1870, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be6,e3,Be7,Bd3,c6,Nge2,Nbd7,O-O,O-O,Rb1,h6,Bf4,Nh7,b4,b5,a4,a6,Qc2,Ndf6,f3,Re8,e4,dxe4,fxe4,Nf8,a5,Ng6,Bd2,Ng4,e5,Bg5,Bxg5,Qxg5,Bxg6,fxg6,Ne4,Qe3+,Kh1,Bf5,N2g3,Qxd4,Nxf5,gxf5,Rxf5,Rf8,Rff1,Qxe5,Qc3,Qxe4,Rfe1,Qg6,h3,Nf2+,Kh2,Rac8,Qg3,Qxg3+,Kxg3,Nd3,Re3,Rfd8,Re6,c5,Rxa6,Nxb4,Ra7,Ra8,Rb7,Rxa5,Rf1,Rd3+,Kh2,Nc6,Rff7,Ne5,Rxg7+,Kf8,Rh7,Kg8,Rhg7+,Kf8,Rh7,Ng6', 'Rb8+,Rd8,Rxd8#', 'https://lichess.org/training/jtyMg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JtZQJ', 'Blitz', 'P-S', 1953, 'girandola', 1937, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Nf3,Nf6,Bc4,Nc6,Qb3,e6,O-O,a6,Bf4,Na5,Qa4+,Bd7,Nb5,axb5,Bxb5,Nc6,Qb3,Nxe4,Rfd1,d5,Bxc6,Bxc6,Ne5,Bc5,Nd3,Ba4,Qxb7,Bxd1,Qc6+,Ke7,Nxc5,Rc8,Qb7+,Kf6,Nd7+,Kf5,Ne5,Kxf4,Nd3+,Kg5,Qxf7,Bh5', 'Qf4+,Kg6,Ne5#', 'https://lichess.org/training/JtZQJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ju11S', 'Classical', 'Edsoncosta', 1787, 'penpalrdro', 1920, 'Nf3,Nf6,g3,d5,d4,e6,Bg2,c5,c3,Nc6,O-O,Bd6,Re1,O-O,Nbd2,Qc7,e4,dxe4,Nxe4,Nxe4,Rxe4,cxd4,Nxd4,Nxd4,cxd4,Bd7,Bf4,Bc6,Rc1,Qd7,Bxd6,Qxd6,Rf4,Bxg2,Kxg2,Qd5+,Qf3,Qxa2,Qxb7,Rab8,Qc7,Rxb2', 'Qxf7+,Rxf7,Rc8+,Rf8,Rfxf8#', 'https://lichess.org/training/ju11S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JU4go', 'Rapid', 'Kashor', 1668, 'loooocer', 1613, 'd4,d5,Nc3,Nf6,Nf3,Nc6,Bf4,Bg4,Nb5,Bxf3,exf3,e5,dxe5,Nd7,e6,Nde5,exf7+,Kxf7,Nxc7,Qxc7,Qxd5+,Kg6,Bxe5,Nxe5,Bd3+,Nxd3+,Qxd3+,Kh6,O-O,Bd6,g3,Rad8,Rfe1,Bxg3,Re6+,g6,Qe3+,Bf4,Qe4,Bxh2+,Kf1,Qf4,Ke2,Qxe4+,fxe4,Rhe8,Rxe8,Rxe8,Ke3,Be5,f4,Bxb2,Rb1,Bf6,Rxb7,Ra8,f5,a5,fxg6,hxg6,Kf4,Bg5+,Kf3,Rf8+,Ke2,Rf4,Kd3,Rf3+,Kd4,Bf6+,Kd5,Rc3,Rb2,g5,Rb6,Kg6,e5,Kf7,Rxf6+,Kg7,Rc6,Re3,e6,g4,Rc7+,Kf6,Rf7+,Kg6,Rf8,g3,Kd6,Kg7,e7', 'g2,e8=Q,Rxe8,Rxe8,g1=Q', 'https://lichess.org/training/JU4go');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JU6ug', 'Rapid', 'GamePrivate', 1918, 'kart12', 1760, 'e4,d6,d4,c6,f4,Nd7,Nf3,Ngf6,Bd3,e5,c3,Be7,O-O,O-O,Be3,Ng4,Bd2,exf4,Bxf4,Ndf6,h3,Nh6,Bxh6,gxh6,e5,dxe5,Nxe5,c5,Qe2,cxd4,Rxf6,Bxf6,Qe4,Re8', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/JU6ug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ju7ug', 'Rapid', 'ssdutta', 1831, 'MKS1982', 1714, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,Nc6,O-O,d5,exd5,Nxd5,Bb5,Qd6,Qe1,f6,Be3,Nxe3,fxe3,Bd7,d4,Bb6,dxe5,Nxe5,Bxd7+,Nxd7,Nbd2,O-O-O,Kh1,Rde8,c3,Rxe3,Qh4,g5,Qh5,g4,Nc4,Qe6,Nxe3,gxf3,Qxf3,Qxe3,Qg4,Re8,Rad1,Rd8,Rfe1,Qg5', 'Qxd7+,Rxd7,Re8+,Rd8,Rdxd8#', 'https://lichess.org/training/Ju7ug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ju7XD', 'Rapid', 'EminZarbiev', 1975, 'Matvey_03', 1719, 'e4,g6,d4,e6,f4,d5,e5,Ne7,g4,Bg7,Nd2,a6,Nb3,Nbc6,Bd2,a5,Nf3,b6,a4,O-O,h4,f6,Bd3,fxe5,fxe5,Nb4,Bxb4,axb4,Bb5,c6,Bd3,b5,axb5,Rxa1,Nxa1,cxb5,Bxb5,Qa5,Be2,b3+,c3,Ba6,Nxb3,Qa2,Bxa6,Qxa6,Nc5,Qb5,b3,Ra8,Kf2,Ra2+,Kg3,h6,Qd3,Qe8,Nxe6,h5,gxh5', 'Nf5+,Kh3,Qxe6', 'https://lichess.org/training/Ju7XD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jU7xl', 'Rapid', 'pankr', 1783, 'Die_Uhr', 1785, 'd4,d5,Bf4,Nf6,Nc3,Bf5,Nf3,e6,e3,Bb4,a3,Ba5,b4,Bb6,a4,a6,a5,Ba7,Na4,Nbd7,h4,Bg4,Be2,Rc8,Bg5,h6,Bf4,O-O,Ne5,Bxe2,Qxe2,Nxe5,dxe5,Ne4,f3,Qe7,fxe4,Qxb4+,c3,Qxe4,Kf2,c5,g4,c4,g5,Qxf4+,Ke1,Qxe3,gxh6,Qxe2+,Kxe2,gxh6,Rh2,Kh7,Rb1,Rc7,Nb6,Bxb6,axb6,Rc5,Ke3,Rg8,Kd4,Ra5,Rf1,Rg4+,Ke3,Kg7,Rhf2,Ra3,Rxf7+,Kh8,Rc1,Rxh4,Rxb7,Rh3+,Kd4,Rh4+,Kc5,Rb3,Ra1,Rg4,Rxa6,Rg7,Ra8+,Kh7,Rxg7+,Kxg7,Kc6,d4,cxd4,c3,b7', 'c2,Ra1,Rb1', 'https://lichess.org/training/jU7xl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ju8uE', 'Blitz', 'mahmoodreza_063', 1694, 'abanob135', 1697, 'd4,Nf6,Nf3,e6,Bg5,d5,Nbd2,h6,Bf4,Bd6,Ne5,Nbd7,e3,O-O,Bd3,c5,c3,c4,Bc2,Bc7,h4,Nxe5,dxe5,Nd7,Qh5,Qe7,Nf3,f6,Qg6,fxe5,Qh7+,Kf7,Qg6+,Kg8,Bxh6,e4,Ng5,Rf6', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/Ju8uE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ju979', 'Rapid', 'grogrogo', 1771, 'AlechinGM', 1880, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Qd5,f6,exf6,Nxf6,Qd1,d5,e3,Bg4,Be2,O-O-O,Bd2,d4,Nxd4,Bxe2,Nxe2,Ne4,Nf4,Nxd2,Nxd2,Kb8,a3,g5,Nd3,Bg7,Qe2,Rhe8,O-O-O,Nd4,Qg4,Nb5,Qc4,Nxa3,bxa3', 'Qxa3+,Kb1,Qa1#', 'https://lichess.org/training/ju979');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jU9XV', 'Classical', 'bt_1975_TR', 1654, 'Jeyps', 1727, 'd4,d5,e4,dxe4,Nc3,Nf6,Bg5,Bf5,f3,exf3,Qxf3,Nc6,Bb5,Bd7,Bxf6,exf6,O-O-O,a6,Re1+,Be7,Bc4,Nxd4,Qe3,Ne6,Nd5,Bc6,Rd1,Qd6', 'Nxf6+,gxf6,Rxd6', 'https://lichess.org/training/jU9XV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUaeC', 'Rapid', 'stangio', 1788, 'alperkaynar', 1808, 'e4,Nc6,Bc4,e5,Nf3,h6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd2,Bxc3,Bxc3,Nxe4,Qe2,d5,Bd3,Bf5,f3,Qh4+,g3,Qg5,O-O,O-O,fxe4,dxe4,Bd2,Qg6,Bc4,h5,Rf4,Rfe8,Be3,Rab8,b3,Rbd8,Bxa7,Rd7,Be3,Red8,Kg2,Qd6,Rf2,Qe5,Raf1,Bg4,Qe1,Rd1,Qb4,Rxf1,Rxf1,Bf3+,Kg1,c5,Qb5,h4,b4', 'hxg3,Qxc5,gxh2+', 'https://lichess.org/training/jUaeC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JuAO0', 'Rapid', 'lithuanian10', 1719, 'sito1963', 1678, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,Ng5,Nh6,Nxf7,Nxf7,Bxf7+,Kxf7,Qh5+,g6,Qxc5,Re8,Bg5,Rxe4+,Kd2,Qf8,Qd5+,Re6,Re1,h6,Qf3+,Kg7', 'Bxh6+,Kxh6,Qxf8+', 'https://lichess.org/training/JuAO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jub5M', 'Rapid', 'erendsi06', 2026, 'MCC_LIKITAN', 1999, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,c4,Ngf6,Nc3,a6,d4,cxd4,Qxd4,g6,Bg5,Bg7,O-O,Rc8,Rad1,Qa5,a3,O-O,Rfe1,Rfe8,Qd3,Nc5,Qc2,Ne6,Bxf6,Bxf6,Nd5,Bg7,Qb3,b5,cxb5,axb5,Rc1,Rxc1,Rxc1,Nc5,Qa2,Nxe4,b4,Qa7,Rc7,Qa4,Nxe7+', 'Rxe7,Rc8+,Bf8', 'https://lichess.org/training/Jub5M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('juBAK', 'Blitz', 'lucaschess2', 1648, 'Inspirer228', 1649, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,Bxc6+,bxc6,d3,Be7,Nc3,O-O,Kh1,h6,Be3,Be6,Ne2,Ng4,Qd2,Nxe3,fxe3,Bg5,Nxg5,Qxg5,Ng1,d5,exd5,cxd5,Rf3,d4,Rg3,dxe3,Qxe3,Qxe3,Rxe3,f6,Rf1,Bxa2,b3,Rab8,Ra1,Bxb3,cxb3,Rxb3,Rxa7,Rd8,Rxc7,Rdxd3,Rxd3,Rxd3,h3,Rd1,Kh2,Kh7,Nf3,e4,Nh4,e3,Nf5,Kg6,Nxe3,Rd3,Re7,h5,Nc4,Rc3,Nd6,Kh6,Ne8,g5,Nxf6,g4,Re6', 'g3+,Kg1,Rc1+,Re1,Rxe1#', 'https://lichess.org/training/juBAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('juBlo', 'Rapid', 'Valera22082008', 1651, 'Andrey_Krivonosov', 1673, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d3,g6,Be3,Bg7,Be2,d6,O-O,O-O,a3,Nd4,Bg5,Nxe2+,Qxe2,Bg4,h3,Bxf3,Qxf3,Qe7', 'Nd5,Nxd5,Bxe7', 'https://lichess.org/training/juBlo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUBpM', 'Rapid', 'Bomberloli01', 1896, 'Ruslan_Gorenko', 1959, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,Nbd7,Re1+,Be7,Qe2,Kf8,c4,c6,Nc3,Bb4,a3,Ba5,b4,Bc7,cxd5,Nxd5,Bb2,N7f6,Ne5,Nf4,Qf3,Nxd3,Qxd3,Qd6,Ne4,Nxe4,Qxe4,f6', 'Ng6+,Kf7,Nxh8+', 'https://lichess.org/training/jUBpM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUBR0', 'Blitz', 'felipemhl', 1725, 'marvi13500', 1718, 'd4,Nf6,Nf3,e6,Nc3,d5,Bf4,Be7,Nb5,Na6,e3,c6,Nc3,Nc7,Bd3,O-O,h4,Nce8,h5,g6,Bh6,Ng7,hxg6,fxg6,Ng5,Nfh5,Rxh5,gxh5,Bxh7+,Kh8,Bxg7+,Kxg7,Qxh5,Bxg5,Qg6+,Kh8,Qh5,Qf6', 'Bg6+,Bh6,Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/jUBR0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JuCt0', 'Rapid', 'SteveSevenTeen', 1797, 'JorgeCB', 1751, 'd4,d5,c4,c6,e3,Bf5,Nf3,e6,Bd3,Bg4,O-O,Nf6,Nbd2,Bb4,a3,Bxd2,Bxd2,Ne4,Bc3,Nd7,h3,Bh5,cxd5,cxd5,Be2,Bg6,Rc1,O-O,Bb4,Re8,Nd2,Nef6,f4,Be4,Bd6,a6,Be5,h6,g4,Nh7,Nxe4,dxe4,Qe1,Nb6', 'Bc7,Qd7,Bxb6', 'https://lichess.org/training/JuCt0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JUcX6', 'Rapid', 'geneilton', 1633, 'metalmatt213', 1637, 'e4,c5,Nf3,g6,Nc3,Bg7,Bb5,a6,Ba4,b5,Bxb5,axb5,Nxb5,Ba6,Nc3,e6,d3,Qa5,Bd2,Qb6,Na4,Qc6,Nc3,Ne7,O-O,c4,d4,O-O,e5,Nd5,Rb1,d6,Re1,dxe5,Nxe5,Bxe5,Rxe5,Nd7,Rg5,f6,Rg4,Bb7,Qe2,f5,Rg5,N7f6,h3,Nxc3,Bxc3,Ne4,d5,Qxd5,Rd1,Qc6,f3,Nxg5', 'Qe5,Rf6,Qxf6', 'https://lichess.org/training/JUcX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('juDSK', 'Rapid', 'ppa29', 1750, 'Mordrag7', 1809, 'd4,Nf6,Bf4,e6,e3,c5,c3,d5,Nd2,Nc6,Ngf3,Nh5,Be5,Nxe5,Nxe5,Nf6,Bb5+,Bd7,Nxd7,Nxd7,Qa4,cxd4,exd4,Bd6,Nf3,a6,Bxd7+,Qxd7,Qxd7+,Kxd7,O-O,f6,Nd2,h5,c4,b5,c5,Bf4,Nf3,g5,g3,Bc7,a4,b4,Rac1,Kc6,b3,h4,Rfe1,Kd7,Re2,hxg3,fxg3,Rh3,Rce1,Re8,Nd2,e5,Nf1,e4,Kg2,Rh5,Ne3,Reh8,Kg1,Ke6,Rf1,R5h6,Ref2', 'Bxg3,Rxf6+,Rxf6,Rxf6+,Kxf6', 'https://lichess.org/training/juDSK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JUDvm', 'Rapid', 'cagnusmarelson', 1673, 'LeBlaBlaZ', 1667, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,d6,Bb5,Bg4,h3,Bh5,Nbd2,a6,Ba4,b5,Bb3,Nd4,Bd5,c6,Bb3,Be7,c3,Nxf3+,Nxf3,O-O,g4,Nxg4,hxg4,Bxg4,Kg2,Bh4,Rg1,Qf6,Be3,Kh8,Qe2,Qg6,Kf1,f5,Nxh4', 'Bxe2+,Kxe2,Qh5+,Kd2,Qxh4', 'https://lichess.org/training/JUDvm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUedM', 'Blitz', 'IM Odirovski', 2559, 'vicoy25', 2543, 'Nf3,d5,d4,c6,Bf4,Nf6,e3,h6,Nbd2,Bf5,c4,e6,Qb3,Qc8,Rc1,Nbd7,h3,Be7,Be2,O-O,O-O,a5,a3,a4,Qa2,Re8,Rfd1,Ne4,Nb1,Nb6,g4,Bg6,Ne5,Bh7,f3,Nf6,Nc3,Nxc4,Bxc4,dxc4,Nxc4,Qd8,e4,Nd7,Nd6,Bxd6,Bxd6,Qb6,Kg2,Kh8,Rd2,Bg8,Qc4,f6,Nxa4,Qa5,Nc3,e5,Qd3,exd4,Qxd4,Nb6,Bb4,Qa6,Qf2,Nc4,Re2,b6,Nd1,Ne5,Bc3', 'Nd3,Qe3,Nxc1', 'https://lichess.org/training/jUedM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('juFGN', 'Rapid', 'MrShooko', 1719, 'jazzypop', 1795, 'c4,f5,e3,Nf6,d4,e6,Nc3,Bb4,Ne2,b6,a3,Bxc3+,Nxc3,Bb7,f3,O-O,Qc2,d6,e4,Qe8,Bd3,Nbd7,O-O,f4,Bxf4,e5,Be3,Nh5,Qb3,Kh8,d5,Nf4,Bxf4,Rxf4,Nb5,Qd8,g3,Rf8,Rf2,Nc5,Qc2,Rf6,Be2,a6,Nc3,Qe8,b4,Nd7,Raf1,Qg6,Qd2,Raf8,Kh1,Qh5,f4,Qh3,f5,Rh6,Qd1,Nf6,Rg1,Nh5,Bg4', 'Nxg3+,Rxg3,Qxg3', 'https://lichess.org/training/juFGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jufke', 'Blitz', 'silenteye', 1647, 'Bjornjonj', 1648, 'c4,e5,Nc3,Bb4,d3,Bxc3+,bxc3,Nf6,g4,O-O,g5,Ne8,h4,d5,h5,f5,g6,h6,Bd2,dxc4,Qc1,f4,Nh3,Bg4,Nxf4,exf4,Bxf4,Rxf4,Qxf4,Be6,Bh3,Bxh3', 'Qf7+,Kh8,Qf8#', 'https://lichess.org/training/Jufke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jug83', 'Blitz', 'Varshkoo', 2348, 'FM Sandstad', 2317, 'd4,e6,c4,c5,d5,Bd6,Nc3,Bc7,d6,Ba5,Bd2,Nf6,f3,Nc6,e4,O-O,Nge2,Ne8,Ng3,Nxd6,Bd3,f6,O-O,Ne5,Be2,Ndxc4,Bc1,Bxc3,bxc3,b5,a4,Qa5,Qb3,a6,f4,Nc6,axb5,Qxa1,bxc6,Na5,Qc2,Nxc6,Bb2,Qa2', 'Ra1,Qxa1+,Bxa1', 'https://lichess.org/training/Jug83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Juh4X', 'Rapid', 'dmrgn155', 1876, 'angomo2', 1929, 'e4,c5,b3,d6,Bb2,Nf6,Nc3,e6,f4,Nc6,Bb5,Bd7,Nf3,a6,Bxc6,Bxc6,d3,Be7,O-O,O-O,Qe1,Qc7,Nh4,b5,f5,b4,Ne2,e5,Nf3,Ng4,Qg3,Nf6,Qh3,Bb5,g4,Nxe4,dxe4,Bxe2,Rf2,Bb5,g5,Bc6,Re1,Qb7,f6,gxf6,Qg4,Kh8,gxf6,Rg8,Ng5,Bf8,Qh5,h6,h4,Bxe4,Kf1,Bg6,Qg4,hxg5,hxg5,Bh7,Rh2,Qc8', 'Rxh7+,Kxh7,Qh5+,Bh6,Qxh6#', 'https://lichess.org/training/Juh4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JUhFz', 'Classical', 'dem1908', 1668, 'ghasm', 1760, 'd4,d5,c4,c6,Nc3,e6,Nf3,Bd6,cxd5,cxd5,e4,dxe4,Nxe4,Nf6,Nxd6+,Qxd6,Bb5+,Kf8,a4,a6,Be2,Nc6,b3,Ne4,Qd3,Nf6,O-O,Ke7,Re1,Rd8,Qc3,Kf8', 'Ba3,Qxa3,Rxa3', 'https://lichess.org/training/JUhFz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUHoP', 'Rapid', 'smetchik', 1682, 'ChessIvashka', 1667, 'e4,e5,Nf3,Nf6,Nc3,Bb4,a3,Bxc3,dxc3,O-O,Bg5,h6,Bh4,d6,h3,Be6,Qd3,Nbd7,O-O-O,b6,Qe3,c5,Bb5,Qc7,g4,a6,Be2,Nh7,g5,hxg5,Bxg5,Nxg5,Qxg5,f6,Qg3,Kf7,Rhg1,Rg8,Qh4,Qc6,Qh5+,Ke7,Qh7,Nf8,Qh4,g5,Qg3,Qxe4,Bd3,Qc6,Rge1,d5,c4,e4,cxd5,Bxd5,Qg4,c4,Bxe4,Bxe4,Rxe4+,Kf7,Qh5+,Ng6,h4,Qxe4,Rd7+,Ke6,Qh7,Rh8,Qf7+,Kf5,Nd4+,Kg4,Kb1,Ne5,Qxf6,Nxd7', 'Qxg5+,Kh3,Qg3#', 'https://lichess.org/training/jUHoP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('juI6m', 'Classical', 'FU_Sigi01', 1991, 'applefighter', 1926, 'd4,Nf6,Bf4,g6,Nc3,d5,Nf3,Bg7,Qd2,O-O,Bh6,Bf5,h3,Nc6,O-O-O,b5,g4,Ne4,Nxe4,Bxe4,Bxg7,Kxg7,c3,Qd6,h4,h6,Rh3,b4,Ne1,bxc3,Qxc3,Nb4,Qa3,Qc6+,Rc3,Qb6,f3,Rfd8,fxe4,dxe4,e3,a5,Kb1,Qf6,Nc2,Qxh4,Nxb4,axb4,Qxb4,e5,Rxc7,Qxg4,Qe1,exd4,exd4,e3,Bc4,Rf8,Qe2,Qf4,Rd3,Qxc7,Rxe3,Rac8,b3,Rfd8,d5,Rxd5', 'Qb2+,f6,Bxd5', 'https://lichess.org/training/juI6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('juIcr', 'Blitz', 'mohdiqbalrazak', 1812, 'kenzo57', 1798, 'd4,Nf6,Bf4,d6,e3,g6,Nf3,Bg7,Nbd2,O-O,Bd3,c6,c4,Nh5,Bg3,Nxg3,hxg3,e5,Ne4,h6,Ke2,Bg4,Rh4,Bf5,Qh1,exd4,Rxh6,dxe3,fxe3,d5,cxd5,Qxd5,Nfg5,Bxe4', 'Rh8+,Bxh8,Qh7#', 'https://lichess.org/training/juIcr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jujIb', 'Rapid', 'tukipenda', 2067, 'felipe98', 1964, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nf3,Be7,O-O,O-O,h3,Nbd7,c4,dxc4,Bxc4,Nb6,Bb3,Nbd5,Nc3,Bf5,Re1,Bb4,Nxd5,Nxd5,Bg5,f6,Bd2,Bxd2,Qxd2,Kh8,Nh4,Bc8,Qe2,Nf4,Qe4,Qd6,Rac1,Bd7,Qe7,Nd3,Qe4,Nxe1', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/jujIb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUjRZ', 'Blitz', 'AndreyTri', 1753, 'VadapavIQ', 1735, 'e4,c6,d4,d5,e5,Bf5,c4,e6,h4,h6,c5,b6,b4,a5,Qa4,Ne7,b5,bxc5,dxc5,Ng6,g4,Be4,f3,Bxb1,Rxb1,Nxe5,Be3,cxb5,Bxb5+,Ke7,Bf4,f6,Bxe5,fxe5,Ne2,Kf7,c6,Qc7,O-O,Bc5+,Kg2,g5,h5,Be3,Qc2,Rg8,Qh7+,Rg7,Qxh6,Nxc6,Bd3,e4,fxe4+,Kg8,Qxe6+,Kh8,Qxd5,Ne5,Qe6,Nxd3,Qh6+,Rh7', 'Rf8+,Rxf8,Qxf8#', 'https://lichess.org/training/jUjRZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('juK5Y', 'Rapid', 'SOLLANO', 1855, 'EmmanuelRivera', 1778, 'd4,c5,c3,b6,e4,e6,Nf3,Bb7,Bd3,Nf6,Nbd2,d6,O-O,Be7,Re1,O-O,b4,cxb4,c4,a5,d5,exd5,cxd5,Nbd7,Nb3,Nc5,Bc2,Ng4,Nbd4,Ne5,Nxe5,dxe5,Nf3,Bd6,a4,Qd7,h3,Ba6,Be3,Rac8,Bc1,Be7,Nxe5,Qd6,Nf3,f6,Nd4,Qe5,Bb2,Qb8,f3,b3,Nxb3,Nxb3,Bxb3,Bc5+,Kh1,Qg3,Bd4,Kh8,Bxc5,bxc5,Rc1,c4,Ba2,Qd6,Rc3,Rc7,Re2,Rfc8,Rec2,h6,Qd4,Kh7,Bxc4,Qg3,Bxa6,Rxc3,Rxc3,Qe1+,Kh2,Rxc3,d6,Rc2,d7,Rd2', 'd8=Q,Rxd4,Qxd4', 'https://lichess.org/training/juK5Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JUKfd', 'Rapid', 'patricles', 1673, 'Capy60', 1650, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Bc4,Bc5,Qxg7,Qf6,Qxf6,Nxf6,O-O,Bb7,Bg5,Nxe4,Re1,f6,Bh4,O-O-O,Nc3,Nxc3,bxc3,d5,Bd3,Rd6,Re7,Rg8,Bf5+,Kd8,Rae1,Bc6,Bg3,Rd7,Bxd7,Bxd7,Rxh7,c6,h3', 'Rxg3,Rh8+,Kc7', 'https://lichess.org/training/JUKfd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jukkL', 'Rapid', 'cat-ice', 1635, 'railroadman', 1780, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kf1,Qe7,Qf3,Bb6,Nxh8,Nd4,Qd3,Ng4,c3,Qf6+,Ke1,Qf2+,Kd1,Qxg2,cxd4', 'Nf2+,Kc2,Nxd3', 'https://lichess.org/training/jukkL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUKUQ', 'Rapid', 'Equiconstant_Ronin', 1719, 'atialtun', 1748, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,h6,d3,Nf6,Nc3,g5,a3,g4,hxg4,Bxg4,Nd5,Nd4,Be3,Nxf3+,gxf3,Be6,Qd2,Bxd5,Bxd5,Nxd5,exd5,Qf6,Qe2,O-O-O,O-O-O,Bg7,Bd2,Rde8,Bc3,Qf4+,Qe3,Qxe3+,fxe3,f5,e4,f4,d4,a6,dxe5,dxe5,Rdg1,Rhg8,Kd2,Rd8,Ke2,Rd6,Bxe5,Rd7,Bxg7,Rgxg7,Rxg7,Rxg7,Rxh6,Rg2+,Kd3,Rg3,Ke2,Rg2+,Kd3,Rg3,Kd4,Rxf3,e5,Rf2,e6,Kd8,Rh7,Rxc2,e7+,Ke8,Ke5,Re2+,Kf6,f3', 'Rh8+,Kd7,Rd8#', 'https://lichess.org/training/jUKUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUlAT', 'Rapid', 'BlamelessCheeseball', 1719, 'borguess', 1716, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,a6,Nge2,Qc7,O-O,e5,d3,b5,f4,Nbd7,h3,Bb7,g4,b4,Na4,h6,Ng3,g6,g5,hxg5,fxg5,Nh5,Nxh5,Rxh5,b3,Be7,Qf3,Rh7,Qg3,O-O-O,Nb2,Nf8,Qg4+,Ne6', 'Rxf7,Rxf7,Qxe6+,Kb8,Qxf7', 'https://lichess.org/training/jUlAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUMgs', 'Blitz', 'Do_not_stop', 2180, 'Hammertime2016', 2253, 'd4,d5,Bf4,c6,Nf3,Nf6,e3,Nbd7,c3,e6,Nbd2,Be7,Bd3,Nh5,Be5,Nxe5,Nxe5,Nf6,O-O,O-O,f4,c5,g4,Qb6,g5,Nd7,Bxh7+,Kxh7,Qh5+,Kg8,g6,fxg6,Nxg6,Re8,f5,Nf6', 'Qh8+,Kf7,Ne5#', 'https://lichess.org/training/jUMgs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JuMUv', 'Rapid', 'waitforhim', 1836, 'Ocean_s', 1814, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Be3,Qxb2,Nbd2,Qxc3,dxc5,Qa5,Rc1,Nge7,Be2,Ng6,O-O,Ngxe5,a4,Nd7,Bb5,a6,Bxc6,bxc6,Nd4,Bb7,Rb1,Rb8,Re1,Bxc5,N4b3,Qxa4,Bxc5,Ba8,Bd6,Rb7,Ra1,Qb5,Nd4,Qb6,N2b3,c5,Nxc5,Nxc5,Bxc5,Qxc5,Rxa6,O-O,Rc6,Qb4,Nc2,Qb3,Ra6,Rc7,Qa1,Qxc2,Rxa8,Rcc8,Ra2,Qc6,Qd4,Ra8,Rae2,Ra4,Qe5,Rfa8,Re3,Ra1', 'Rxa1,Rxa1+,Qxa1', 'https://lichess.org/training/JuMUv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUn4H', 'Rapid', 'KilicNurullah56', 2234, 'Doganov23', 2284, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bd3,Bg4,Be3,Nf6,O-O,e6,Nbd2,Be7,h3,Bh5,c3,O-O,Qc2,Bg6,Bxg6,hxg6,Ne5,Rc8,a3,a5,Nxc6,Rxc6,Nf3,b5,Ne5,Rc8,Qd3,Qb6,Bg5,Rfd8,Ng4,b4,axb4,axb4,Ra6,Qb8,Bxf6,gxf6,Rfa1,bxc3,bxc3,Rc7,Qf3,Kg7,h4,Rdc8,h5,Rxc3,h6+,Kh8,Qd1,Qf4,g3,Qg5,Ra8,Rxa8,Rxa8+,Kh7,Ra1,e5,dxe5,Bc5,Nxf6+,Kxh6,Kg2,Qxe5', 'Ng4+,Kg7,Nxe5', 'https://lichess.org/training/jUn4H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('junbS', 'Classical', 'BlainD', 1976, 'bistvan1980', 1749, 'd4,d6,e4,g6,Nc3,Bg7,f4,f5,e5,dxe5,fxe5,e6,Nf3,b6,h4,Bb7,Bc4,Bd5,Bg5,Qd7,Bxd5,exd5,Qe2,Qe6,Nb5,Na6,O-O-O,h6,Bf4,O-O-O,Nd6+,cxd6,Qxa6+,Kb8,exd6,Rd7,Rhe1,Qf7,Re3,Nf6,Re7,Rxe7,d7+,Ka8', 'Qc8+,Rxc8,dxc8=Q#', 'https://lichess.org/training/junbS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUNBx', 'Rapid', 'hacedordemates', 1754, 'joserosales', 1767, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,d6,c3,Bg4,h3,Bh5,O-O,Be7,Be3,O-O,Nbd2,h6,Qc1,Kh7,Nh2,Be2,Re1,Bxd3,f3,Bb5,Bb3,Na5,Bc2,Bd7,Ndf1,Nc4,Ng3,Nxe3,Qxe3,Ng8,f4,b6,fxe5,dxe5,Nf3,Bc5,Nd4,exd4,cxd4,Bb4,Rf1,c5,e5+,g6,Rf4,cxd4,Qe4,Ne7,Raf1,Be6,Nh5,Bf5,Nf6+,Kh8,Rh4,Bxe4', 'Rxh6+,Kg7,Rh7#', 'https://lichess.org/training/jUNBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JUNvR', 'Classical', 'Abdulelah1985', 1855, 'Botivmesk', 1862, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,Bb4,Be2,Qa5,O-O,Bxc3,Nb3,Qe5,bxc3,Qxc3,e5,Qxe5,Re1,Qc7,Bd3,Nf6,Bg5,Nd5,Qd2,O-O,a3,f6,Bh4,Ne5,Bg3,d6,Be4,Nc3,Bxe5,Nxe4,Rxe4,dxe5,Rae1,b5,Rh4,Bb7,Re3,Rac8,Reh3,Qxc2,Qxc2,Rxc2,Rxh7,Rb2,Rh8+,Kf7,Rxf8+,Kxf8,Kf1,Bd5,Nc5,Bc4+,Ke1,a5,Rh8+,Ke7,Ra8,Re2+,Kd1,Rxf2,Ra7+,Kd6', 'Ne4+,Kd5,Nxf2', 'https://lichess.org/training/JUNvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('juP7U', 'Rapid', 'maillon', 1861, 'DON-JAQUE', 1959, 'e4,g6,d4,Bg7,e5,e6,Nf3,Nc6,Be2,Nce7,Bg5,f6,exf6,Nxf6,O-O,O-O,Qd2,Ne4,Qe3,Nxg5,Nxg5,Nf5,Qf4,Nxd4,Qd2,Nxe2+,Qxe2,Qxg5,Nd2,Bxb2,Rab1,Bg7,Nf3,Qh6,Qc4,c6,a4,d5,Qb4,e5,h3,Bxh3,Qxb7,Bg4,Nh2,Be2,Rfe1,Bc4,Qxc6,Rae8,Rb7,e4,Qd7,Bc3,Re3,Rd8,Qe6+,Kh8,Rh3,Qc1+,Nf1,Qxf1+,Kh2,Bg7,Qe7,Rg8', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/juP7U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JUpLT', 'Rapid', 'sigi1', 1926, 'MaSK78', 1839, 'e4,e6,c4,d5,exd5,exd5,cxd5,Qxd5,d4,Bb4+,Nc3,Nf6,Nf3,Qa5,Bd2,O-O,Be2,Be6,a3,Bxc3,Bxc3,Qb6,O-O,Nc6,Rc1,Nd5,Ng5,Bd7,Nxh7,Nxc3,bxc3,Rfe8,Ng5,Ne7,Qd3,Ng6,Bh5,Qf6,Nf3,Nf4,Bxf7+,Kxf7,Qd2,Kf8,Rb1,Re2,Qc1,Qg6,Nh4,Qg4', 'Qxf4+,Qxf4,Ng6+,Kf7,Nxf4', 'https://lichess.org/training/JUpLT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JupUi', 'Rapid', 'JasonBecker', 1790, 'pahsa6', 1718, 'f4,d5,Nf3,Nc6,c4,dxc4,e4,Bg4,Bxc4,Bxf3,Qxf3,e5,d3,Bb4+,Nc3,Nge7,O-O,O-O,Kh1,Nd4,Qf2,Bc5,Be3,Nec6,f5,a6,Rae1,b5,Bd5,Rb8,Ne2,Qe7,Nxd4,Bxd4,Bxd4,Nxd4,a3,Qf6,Re3,c6,Ba2,c5,Bd5,Rbc8,g4,Kh8,h4,Qd6,g5,g6,h5,Kg7,f6+,Kh8,hxg6,fxg6,Qh4,Rc7,Rf2,Ne6,Rh3,Nf4,Rxf4,exf4,Rf3,c4,dxc4,bxc4,Rxf4,c3,bxc3,Rxc3', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/JupUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JuPvL', 'Rapid', 'junneth86', 1808, 'cleberfreire', 1736, 'e3,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,Nc3,d6,Ne4,Bg7,a3,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/JuPvL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JupYf', 'Rapid', 'Gelsonkestering', 1879, 'adibnakamura', 1847, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Bb4+,Nc3,Nf6,Qa4+,Nc6,e5,Nd5,Ne2,O-O,O-O,Nb6,Qb3,a5,Bb5,Nxd4,Nxd4,Qxd4,Be3,Qxe5,Bxb6,cxb6,Rfe1,Qg5,Bd3,Bd7,Re3,Bc6,Rg3,Qd2,Rd1,Qf4,Ne2,Qe5,Qc2,h6,Rh3,Rad8,Ng3,Bb5,Bxb5,Rxd1+,Qxd1,Qxb5,Ne4,Qe5,Re3,Qxb2,Rg3,Qxa2,Nf6+,Kh8,Nh5,Bc5,Rxg7,Qxf2+,Kh1,Bd4,Rg4,Rg8,Qxd4+,Qxd4,Rxd4,Ra8,Rd7,a4,Rxf7,a3', 'Nf6,a2,Rh7#', 'https://lichess.org/training/JupYf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jupyy', 'Rapid', 'sunsfere', 2116, 'hanseman', 1992, 'c4,Nf6,Nc3,g6,d4,Bg7,Bg5,c5,e3,O-O,Nf3,cxd4,exd4,d5,Bxf6,exf6,Nxd5,Re8+,Be2,Be6,Ne3,f5,O-O,f4,Nc2,Qb6,b3,Nd7,Qd2,Bf5,Rac1,Qc7,Rfe1,Nf6,Bd3,Ne4,Bxe4,Bxe4,Qc3,Qc6,Nb4,Qf6,Rcd1,Bxf3,Qxf3,Qxd4,h3,Rxe1+,Rxe1,Qc3,Nd3,Rd8,Rd1,g5,Nc5,Rxd1+,Qxd1,Bd4,Ne4,Qb2,Qd2', 'Qb1+,Kh2,Qxe4', 'https://lichess.org/training/Jupyy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JuQ8f', 'Rapid', 'SUICIDA78', 1672, 'hellwicht', 1672, 'e4,e6,e5,d5,Nf3,c5,c3,Nc6,Bb5,Bd7,Bd3,Qc7,O-O,Nxe5,Nxe5,Qxe5,f4,Qc7,a3,Bd6,Qg4,g6,b4,f5,Qh4,Be7,Qg3,c4,Bc2,Bd6,d3,O-O-O,dxc4,dxc4,Be3,Nf6,b5,Nd5,a4,Nxe3,Qxe3,Bc5,Qxc5,Qxc5+,Kh1,Bxb5,axb5,Qxb5,Rxa7,Kc7,Na3,Qb2,Rb1,Qxc3,Rbxb7+,Kd6', 'Nb5+,Kc5,Nxc3', 'https://lichess.org/training/JuQ8f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUqan', 'Classical', 'drongo_stinger', 1866, 'ryfo384', 1816, 'e4,c6,Nf3,d5,e5,Bg4,h3,Bxf3,Qxf3,Nd7,d4,e6,Bd3,c5,c3,cxd4,cxd4,Qa5+,Bd2,Qb6,Bc3,Bb4,O-O,Ne7,Qh5,Bxc3,Nxc3,Qxb2,Rfc1,Qd2,Bb5,Rd8,Bxd7+,Rxd7,Nb5,O-O,Qg4,Nf5,Rd1,Qa5,a4,a6,Nd6,Nxd6,exd6,Rxd6,Rdb1,Rb6,Rxb6,Qxb6,a5,Qb2,Qd1,b5,axb6,Qxb6,Qa4,Ra8,Rc1,Qa7,Qc6,h6,Rb1,a5,Rb7,Qa6', 'Rb8+,Rxb8,Qxa6,Rb1+,Kh2', 'https://lichess.org/training/jUqan');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JUqyC', 'Blitz', 'IM General_Vishy', 2497, 'CM Korkmaz16', 2489, 'g3,d5,Bg2,Nf6,d3,g6,Nd2,Bg7,e4,O-O,Ngf3,c5,O-O,Nc6,Re1,b6,c3,Bb7,Qa4,Qd7,Qb5,e5,a4,Qc8,exd5,Nxd5,Nc4,Qc7,a5,a6,Qb3,b5,Ncxe5,Nxa5,Qc2,Rfe8,Bd2,Bxe5,Nxe5,Rxe5,Rxe5,Qxe5,Rxa5,Qe2,Ra1', 'Ne3,Bxe3,Qxc2', 'https://lichess.org/training/JUqyC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUrRS', 'Rapid', 'maxivgc', 1671, 'Mildor', 1677, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,g6,O-O-O,Bg7,Qd2,O-O,h4,Bxe4', 'Bxf6,Bxf6,Nxe4', 'https://lichess.org/training/jUrRS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUSi2', 'Blitz', 'TanXuChen', 1787, 'Dragula13', 1833, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,g6,Be2,Bg7,Qd2,O-O,h4,h5,O-O-O,Kh7,f3,b5,g4,b4,Na4,Qa5,b3,Bd7,gxh5,Nxh5,f4,Bxa4,Bxh5,Bxb3,Nxb3', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/jUSi2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jusqd', 'Blitz', 'GM Maksat-94', 2507, 'TheTopChand', 1984, 'Nf3,d5,d4,e6,Bg5,Nf6,Nbd2,Be7,e3,c6,Bd3,Nbd7,c3,b6,Qa4,Bb7,O-O,h6,Bh4,O-O,Qc2,c5,Rad1,c4,Be2,a6,Ne5,Nxe5,dxe5,Nd7,Bxe7,Qxe7,f4,f6,exf6,Nxf6,Nf3,Ne4,Ne5,Rf5,Bf3,Nc5,Bxd5,Rxe5,Bxb7,Qxb7,fxe5,Nd3,Rxd3,cxd3,Qxd3,Qc7,Qd6,Qc4,b3,Qxc3,Qxe6+,Kh8,Qxb6,Re8,Qd4,Qc2,h3,Qxa2,Rf7,Qxb3,e6,Qb1+,Kh2,Qg6,Qd7,Qxe6', 'Rf8+,Rxf8,Qxe6', 'https://lichess.org/training/jusqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('juTcV', 'Rapid', 'magnificentmak11', 1677, 'oluwatolani', 1749, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bxd4,Bxd4,Nge7,Bxg7,Rg8,Bf6,d6,Bc4,Rxg2,Qh5,Rg6,Bh4,Be6,Bxe6,fxe6,Qxh7,Qd7,Nc3,O-O-O,O-O-O,Rdg8,f4,Qe8,Bg5', 'Rh8,Qxh8,Qxh8', 'https://lichess.org/training/juTcV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JuvOX', 'Rapid', 'jnlh', 1962, 'Leonidasaki', 1988, 'e4,d5,exd5,Qxd5,Nf3,a6,b3,Nf6,Bb2,Bg4,Nc3,Qe6+,Qe2,Bxf3,gxf3,Qd6,O-O-O,e6,Rg1,Nc6,h4,h6,Rg2,O-O-O,Ne4,Nxe4,fxe4,e5,Qc4,f6,d4,Nxd4,Bxd4,exd4,c3,Qa3+,Kb1,dxc3', 'Qe6+,Kb8,Rxd8+', 'https://lichess.org/training/JuvOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('juwaM', 'Rapid', 'Rajiv17111', 1719, 'superfrank08', 1759, 'e4,c6,f4,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Bg4+,Be2,h5,Nf3,e6,Nc3,Bc5,b3,Na6,Bb2,O-O-O+,Kc1,Be3+,Kb1,f5,Ne5,Bxe2,Nxe2,Nh6,Nc4,Bc5,Bxg7,Rh7,Bf6,Rdd7,e5,Ng4,c3,Nxf6,exf6,Rhf7,Ne5,Rxf6,Nxd7,Kxd7,Rd1+,Kc7,Kc2,Nb8,b4,Bb6,c4,c5,b5,Ba5,g3,Nd7,a4,Nb6,Kb3,Rg6,Rd3,Nd7,Rad1,Nf6,Nc1,Ne4,Rd7+,Kb6,Rh7,Nxg3,hxg3,Rxg3+,Kc2,Rg2+,Kb1,Bc3,Nb3,Rb2+,Kc1,Rxb3,Rxh5,Rb4,Rd6+,Ka5,Rxe6,Rxc4,Rxf5,Be5+,Kd2,Bxf4+,Kd3,Rxa4,Rxc5,b6,Rc4,Kxb5', 'Rxa4,Kxa4,Re4+,Kb5,Rxf4', 'https://lichess.org/training/juwaM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUYaY', 'Rapid', 'mytime95', 1830, 'AyAy-Ron', 1787, 'g3,d5,Bg2,e5,d3,Nf6,Nc3,c5,Bg5,Be6,e4,Be7,Bxf6,Bxf6,Nxd5,Qa5+,Qd2,Qxd2+,Kxd2,Bxd5,exd5,O-O,c3,Nd7,c4,Rfe8,Ne2,Bg5+,Kc2,Nf6,f3,h5,f4,exf4,Nxf4', 'Bxf4,gxf4,Re2+,Kc3,Rxg2', 'https://lichess.org/training/jUYaY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('juyTa', 'Blitz', 'FEVRY', 1749, 'aliekber_gokay', 1684, 'd4,Nf6,c4,g6,e4,Bg7,e5,d6,exf6,Bxf6,Nf3,Bg4,Bh6,Bxf3,Qxf3,Bxd4,Nc3,Nc6,a3,Ne5,Qe4,Bxc3+,bxc3,c6,Be2,Qc7,f4,Nd7,O-O-O,O-O-O,Bf3,Nc5,Qb1,Qd7,Bg7,Rhg8,Bd4,Na4,Qb3,Nb6,Bxb6,axb6,Qxb6,e6,Kc2,Qc7,Qa7,Kd7,c5,d5,c4,Ra8,Qb6,Qxb6,cxb6,Rxa3,Ra1,Rga8,cxd5', 'Rxa1,dxc6+,bxc6,Rxa1,Rxa1,b7,Kc7', 'https://lichess.org/training/juyTa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jUz2q', 'Rapid', 'Nekky72', 2000, 'BrazilianGiant', 2035, 'e4,c6,d4,d5,e5,Bf5,Nf3,h6,Be2,e6,O-O,a6,c4,c5,Qa4+,Qd7,Nc3,Nc6,cxd5,exd5,dxc5,Bxc5,Rd1,Nge7,Bc4,Be6,Ne4,Bxf2+,Kxf2,O-O,Nc5,Qc7,Nxe6,fxe6,Bb3,Nxe5,Bf4,Ng4+,Kg3,Rxf4', 'Qxf4,Qxf4+,Kxf4', 'https://lichess.org/training/jUz2q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jv1UJ', 'Blitz', 'BISTONNNN', 1878, 'hyperfemm', 1881, 'b3,e5,Bb2,d6,d4,Nd7,Nf3,e4,Nfd2,d5,c4,Ndf6,e3,Bb4,Nc3,Bg4,Be2,Bxe2,Qxe2,c6,a3,Bd6,b4,Ne7,cxd5,cxd5,Nb3,O-O,Rc1,Rc8,O-O,Nf5,Nc5,b6,Nb7,Qe8,g4,Qc6,gxf5,Qxb7,Nb5,Bb8,f3,a6,Nc3,exf3,Qxf3,Qc7,Nxd5', 'Qxh2#', 'https://lichess.org/training/Jv1UJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JV22x', 'Rapid', 'Kamilczak7', 1902, 'val71', 1832, 'e4,g6,Nf3,Bg7,d4,c6,c4,d6,Be3,Bg4,Be2,Bxf3,Bxf3,Nd7,Nc3,h6,Qd2,g5,Rd1,e5,dxe5,dxe5,Ne2,Qc7,Bg4,Ngf6,Bf5,Nb6,b3,O-O,h4,Rad8,Qc1,Rxd1+,Qxd1,Rd8,Qc1,gxh4,Bxh6,Qe7,Bxg7,Kxg7,Rxh4,Qb4+,Kf1,Qd2,Kg1', 'Qxc1+,Nxc1,Rd1+', 'https://lichess.org/training/JV22x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jv2GZ', 'Classical', 'WhiteNight18', 1658, 'Roadto2150', 1662, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,e5,Nf3,d6,Bb5,f5,Nc3,fxe4,Nxe4,d5,Ng3', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/Jv2GZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JV38x', 'Rapid', 'jo_jo', 1711, 'wingolab', 1731, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,Bg5,O-O,e4,Nbd7,Bd3,Qe8,Qd2,e5,dxe5,Nxe5,Nxe5,Qxe5,f4,Qc5,O-O-O,Ng4,Rdf1,Ne3,Rf3,Nxc4,Bxc4,Qxc4,Re1,b5,Kb1,b4,Nd5,b3,Nf6+,Bxf6,Bxf6,bxa2+,Ka1,Qe6,Qc3,Re8,Bg5,d5,Bh6,f6,e5,c6,exf6,Qxe1+,Qxe1,Rxe1+,Kxa2,Bf5,g4,Be4,Rb3,Kf7,Bg7,Bb1+,Ka3,d4,Rb7+,Ke6', 'Re7+,Kd5,Rxe1', 'https://lichess.org/training/JV38x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jV3Hw', 'Rapid', 'rictic', 1991, 'titi1a', 1924, 'd4,d5,e3,c5,c3,e6,Bd3,Nf6,Nd2,Nc6,f4,g6,Ngf3,Ng4,Qe2,Bg7,O-O,c4,Bc2,b5,Ne5,Ncxe5,fxe5,h5,e4,Qh4,Nf3,Qe7,exd5,exd5,Ng5,Nh6,Qf3,Nf5,Qxd5,Rb8,h3,h4,Bd2,Rh5,Nf3,Ng3,Rf2,Be6,Qe4,Nxe4,Bxe4,Qd7,Bg5,Bf5,Bxf5,Qxf5,Bxh4,Bh6,Rff1,Be3+,Kh1,Qc2,Bf6,Qxb2,Rae1,Bh6,d5,Qxc3,d6,Kd7', 'e6+,fxe6,Bxc3', 'https://lichess.org/training/jV3Hw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jv3lg', 'Rapid', 'konigstephan', 1834, 'helene007', 2100, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be2,O-O,O-O,Nc6,a3,e5,d5,Ne7,Nd2,Ne8,Nb3,f5,exf5,gxf5,f4,Kh8,Be3,Nf6,h3,Rg8,fxe5,dxe5,Bg5,a6,Nc5,Qd6,Nd3,Nexd5,Bxf6,Nxc3', 'Bxg7+,Rxg7,bxc3', 'https://lichess.org/training/jv3lg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jv4R3', 'Blitz', 'jlomb', 1660, 'varianteascari', 1707, 'Nf3,d6,g3,Nf6,Bg2,Nbd7,O-O,e5,d3,Be7,Bg5,h6,Bxf6,Nxf6,Nbd2,Be6,a3,Qd7,Re1,Bh3,Bh1,O-O-O,c4,c6,b4,e4,Nxe4,Nxe4,dxe4,f5,e5,Qe6,Qa4,Kb8,b5,c5,Rab1,dxe5,b6,a6,Rbd1,e4,Rxd8+,Rxd8,Nh4,Bxh4,Rd1,Rxd1+,Qxd1,Bf6,f3,Qxc4', 'Qd6+,Ka8,Qf8+,Bd8,Qxd8#', 'https://lichess.org/training/Jv4R3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jV73Y', 'Blitz', 'Harsh1812', 1577, 'Yevnine', 1551, 'e4,c5,Nf3,g6,d4,d6,Nc3,Bg7,Be3,Nc6,Qd2,Qb6,dxc5,dxc5,Nd5,Qxb2,Rd1,Nf6,Nc7+,Kf8,Qd8+,Nxd8', 'Rxd8+,Ne8,Rxe8#', 'https://lichess.org/training/jV73Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jv7xk', 'Rapid', 'Remiz', 1774, 'naser42', 1693, 'e4,g6,d4,Bg7,Nf3,c6,Bc4,Nf6,Nc3,O-O,O-O,Qa5,Bd2,Qb4,Bb3,Qb6,Re1,Ne8,e5,d6,e6,fxe6,Ng5,Bxd4,Be3,Bxe3,Rxe3,d5,Nxe6,Bxe6,Rxe6,Qxf2+,Kh1,Kf7,Re1,Nf6,Rf1,Qh4,Ne2,Nd7,c4,dxc4,Bxc4+,Qxc4,Qxd7,Rab8,Rae1,Rfd8,Qh3,Kg7,Nf4,Re8,Ne6+,Kh8,Ng5,Qg8,Re6,Qg7,Rfe1,Nd5,Nf3,Nf4,Qg4,Nxe6,Qxe6,Rbd8,h3,Rd6', 'Qxd6,exd6,Rxe8+,Qg8,Rxg8+', 'https://lichess.org/training/jv7xk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jv8uE', 'Rapid', 'Brefimkov', 1693, 'djolafrite', 1689, 'b4,e5,Bb2,e4,b5,d5,e3,Nf6,a4,Bb4,c4,O-O,Qb3,c5,Ne2,Bg4,h3,Bxe2,Bxe2,a6,O-O,Ra7,Nc3,d4,exd4,cxd4,Qxb4,dxc3,Bxc3,a5,Qc5,b6,Qe3,Re8,Rfe1,Nfd7,Bd1,Nc5,Bc2,f5,d4,Ne6,d5,Nc5,f3,Rae7,fxe4,Nxe4,Bxe4,Rxe4,Qf2,g6,Rxe4,Rxe4,Re1,Rxe1+,Qxe1,Nd7,Qe6+,Kf8,Qd6+,Ke8,Bd4,Kf7,Qe6+,Kf8,Qd6+,Ke8,c5,bxc5,Bxc5,Nxc5,Qxc5,Qe7,Qxe7+,Kxe7,b6,Kd7,b7,Kc7,d6+', 'Kxb7,d7,Kc7,d8=B+,Kxd8', 'https://lichess.org/training/jv8uE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jv8ZK', 'Rapid', 'marvin_moris', 1913, 'Blitzkrieg1939', 1822, 'e4,e6,Nf3,d5,Be2,dxe4,Nd4,Qxd4,Nc3,Nf6,O-O,Qd6,Nb5,Qe5,d4,Qf5,Nxc7+,Kd8,Nxa8,Bd6,c4,e5,dxe5,Qxe5,g3,Nc6,Bf4,Qxb2,Qxd6+,Bd7,Qc7+,Ke8,Rfe1,Nd4,Rab1,Nxe2+,Kf1', 'Bh3#', 'https://lichess.org/training/jv8ZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVcEQ', 'Rapid', 'lagallega', 1788, 'VVA80', 1730, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,h6,Bh4,Bf5,h3,e6,Nf3,Be7,cxd5,cxd5,e3,a6,Qa4+,Nc6,Ne5,Rc8,g4,Bh7,Bg2,O-O,O-O,Nb4,Qb3,Bc2,Qa3,Nc6,b4,Nxb4,Qb2,Bh7,Bxf6,Bxf6', 'Qxb4,Bxe5,dxe5', 'https://lichess.org/training/JVcEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jvD5C', 'Blitz', 'magnetor', 1850, 'Sowrry1953', 1856, 'e4,c5,Nf3,Nc6,Bc4,d6,c3,e6,d4,cxd4,cxd4,Qc7,Bb5,a6,Ba4,b5,Bb3,Na5,Bf4,Nxb3,Qxb3,Bb7,Nbd2,Rc8,O-O,Qc2,Qa3,e5,Rac1,Qxc1,Rxc1,Rxc1+,Nf1,exf4,b4,Rc8,e5,dxe5,Nxe5,Nf6,Qb3,Nd5,Qh3,Bxb4', 'Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/jvD5C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVdvG', 'Blitz', 'justine08', 1784, 'sandest', 1729, 'd4,f5,c4,Nf6,Nc3,g6,Bg5,Bg7,Bxf6,Bxf6,Nf3,O-O,e4,e6,e5,Bg7,Bd3,d6,Qd2,dxe5,Nxe5,Nc6,Nxc6,bxc6,h4,Bxd4,h5,g5,f4,g4,O-O-O,Re8,Bxf5,c5,Bd3,e5,fxe5,Rxe5,Kb1,Be3,Qc2,Kh8,Bxh7,Qe7,Nd5,Qxh7,Nxe3,Rxe3', 'Rd8+,Kg7,h6+,Qxh6,Rxh6,Re1+,Rd1,Rxd1+,Qxd1', 'https://lichess.org/training/jVdvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVe7b', 'Blitz', 'UE2000', 1729, 'Jmmz_fam', 1731, 'e4,c5,a3,d6,Nf3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,d4,cxd4,Qxd4,e6,O-O,Rc8,Nc3,b6,e5,dxe5,Nxe5,Nxe5,Qxe5,Bd6,Qe2,a6,Qxa6,Bxh2+,Kh1,O-O,Bg5,Be5,Rad1,Qc7,Qb5,Bxc3,bxc3,Ng4,g3,Qxc3,Qb4,Qf3+,Kg1,Rxc2', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/jVe7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVeHc', 'Rapid', 'KAOL1998', 1884, 'Islamrajab', 1894, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bf5,Bc4,e6,O-O,Bd6,Nbd2,O-O,c3,a5,a3,a4,Re1,c5,Nf1,cxd4,Nxd4,Bg6,Bd3,Qh4,g3,Qh3,Bxg6,hxg6,Re4,Be7,c4,Nf6', 'Rh4,Qxh4,gxh4', 'https://lichess.org/training/jVeHc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVeUp', 'Classical', 'dezintos', 1644, 'enerd', 1688, 'e4,e5,Nf3,Nc6,Bb5,Qf6,Bxc6,dxc6,Nc3,Bc5,h3,h5,d3,Qd6,a3,f6,Qe2,Be6,Be3,Bxe3,Qxe3,O-O-O,O-O-O,a6,Rd2,c5,Rhd1,Ne7,Ne2,Nc6,c3,Bb3,Re1,Rd7,d4,cxd4,cxd4,Nxd4,Nfxd4,Qc5+,Kb1,Bf7,Nf5', 'Qxe3,Nxe3,Rxd2', 'https://lichess.org/training/jVeUp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JvfDP', 'Rapid', 'Fersabale78', 1725, 'pawnismo', 1772, 'd4,d5,Nf3,c5,dxc5,e6,e3,Nc6,b3,Bxc5,Bb2,Nge7,Bxg7,Rg8,Bf6,Bd7,g3,Rg6,Bb2,Qa5+,Qd2,Bb4,c3,Bd6,b4,Qc7,Bd3,Rg8,b5,Na5,a4,Nc4,Qc2,h6,Na3,Nxb2,Qxb2,Rc8,Rc1,Qc5,Nc2,Qxc3+,Qxc3,Rxc3,Be2,Ng6,O-O,Ke7,Ncd4,Ra3,Bd1,e5,Nb3,Rxa4,Nc5,Rb4,Nxd7,Kxd7,Be2,d4,Ra1,e4,Nxd4,Bc5,Rfd1,Ke7,Nf5+,Kf6,Nxh6,Re8,Rdc1,Bb6,h4,Ne5,Ng4+,Nxg4,Bxg4,Rxb5', 'Bd7,Rbe5,Bxe8', 'https://lichess.org/training/JvfDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVfOT', 'Blitz', 'evojtek', 1535, 'agustin91dc', 1539, 'e4,e5,f4,exf4,Bc4,d6,Nf3,Bg4,O-O,Be7,d4,Nf6,Nc3,O-O,Bxf4,Nbd7,Qd3,a6,h3,b5,Bd5,Nxd5,Nxd5,Be6,Qe3,Bxd5,exd5,Re8,Qf2,Nf6,Bg5,Nxd5,Bxe7,Rxe7,Ng5,Qd7,Rae1,Rxe1,Rxe1,Re8,Rf1,Nf6,Qg3,h6,Rxf6,gxf6', 'Ne6+,Kh7,Qg7#', 'https://lichess.org/training/JVfOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVgam', 'Rapid', 'BamBLmaN', 1785, 'ALi2T', 1778, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nc6,Nf3,Nf6,a3,Bg4,Be2,e6,O-O,Bd6,Nb5,Be7,Ne5,Bxe2,Qxe2,a6,Nxc6,bxc6,Nc3,c5,dxc5,Bxc5,Bg5,O-O,Rad1,Be7,Qd3,h6,Be3,Qc7,h3,Rfd8,Na4,Qe5,Rfe1,Bd6,f4,Qe4,b4,Bxf4', 'Qxe4,Nxe4,Bxf4', 'https://lichess.org/training/jVgam');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JvgGF', 'Blitz', 'CM inegrepus', 2197, 'ErikBoth', 2258, 'd4,Nf6,c4,e6,Nc3,c5,d5,exd5,cxd5,d6,e4,g6,f4,Bg7,Bb5+,Nfd7,a4,O-O,Nf3,Re8,O-O,Na6,Re1,Nc7,Bc4,b6,h3,Ba6,Nb5,Bxb5,axb5,Nf6,Qc2,Qe7,Bd2,Nxe4,Bd3,f5,Ng5,Bd4+,Kh2,Qf6,Nxe4,fxe4,Rxe4,Rxe4,Bxe4,Bxb2,Re1,Bd4,Bf3,Re8,Rxe8+,Nxe8,Qa4,Qe7,Bg4,Ng7,Qa3,h5,Bc8,Qe2,Qxa7,Qxd2,Be6+,Kh7,Qf7,Qf2', 'Qg8+,Kh6,Qh8#', 'https://lichess.org/training/JvgGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVhKc', 'Blitz', 'EthnicKekistani77', 2037, 'florianopossamai', 2022, 'e4,d5,exd5,c6,dxc6,e5,Bc4,Nxc6,Nc3,Bd6,d3,Nge7,Bb3,O-O,Nf3,Na5,Ne4,Nxb3,axb3,Bc7,Be3,b6,Qe2,Bb7,O-O,Nd5,Ra2,f5,Nc3,Nxe3,fxe3,Qd6,e4,a6,Nd2,f4,Nc4,Qg6,Nd5,Bxd5,exd5,b5,Nd2,Rf6,Qe4,Qh5,d6,Bb6+,Kh1', 'Qxh2+,Kxh2,Rh6#', 'https://lichess.org/training/JVhKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVhzb', 'Rapid', 'Susupi', 1692, 'Scghj', 1640, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Nd5,Ne4,Nf4,Qf3,Nxd3+,Qxd3,Qxd3,cxd3,Ba6,Ke2,Rd8,f3,Bxd3+,Kf2,Bxe4,fxe4,Bc5+,Ke2,O-O,a3,Nc4,b4,Bd4,Ra2,Nd6,d3,f5,Nd2,fxe4,Nxe4', 'Nxe4,dxe4,Rf2+', 'https://lichess.org/training/jVhzb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVjgC', 'Rapid', 'Jasoslavjan', 1796, 'f1bookkor', 1770, 'd4,d5,f4,Nf6,Nf3,Nc6,e3,Bg4,Be2,Ne4,c3,e6,O-O,Bd6,Ne5,Bxe2,Qxe2,Qe7,Nd2,O-O-O,Nxc6,bxc6,Nxe4,dxe4,Qa6+,Kd7,Qxa7', 'Ra8,Qb7,Rhb8,Qxb8,Rxb8', 'https://lichess.org/training/JVjgC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVK9M', 'Rapid', 'ahmeterenkaya', 1778, 'fastbreaks', 1764, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nc3,Bb4,Nf3,Qe7,Be2,c5,a3,Bxc3,dxc3,O-O,O-O,Nc6,Bg5,h6,Bh4,g5,Bg3,Ne4,Qc2,Bf5,Bd3,Nxg3,hxg3,Bxd3,Qxd3,Rad8,Qc2,Rfe8,Rfe1,Qf6,b4,b6,b5,Na5,Nd2,Re7,Re4', 'Rxd2,Qxd2,Rxe4', 'https://lichess.org/training/jVK9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVL5y', 'Rapid', 'Sfide_Mentali', 2149, 'waluyo', 2046, 'e4,c5,Nf3,e6,d4,cxd4,c3,dxc3,Nxc3,Bb4,Bc4,Nf6,Qe2,d5,exd5,Nxd5,Bd2,Bxc3,bxc3,Nc6,O-O,O-O,Rad1,a6,a4,b5,axb5,axb5,Bxb5,Ra2,Qc4,Rxd2,Rxd2,Na5,Qc5,Nb3,Rxd5,exd5,Qb4,Na5,h3,Be6,Nd4,Qc7,Re1,Rb8,Ra1,Nb7,Nc6,Rf8,Nd4,Nc5,Be2,Ne4,Bf3,Rb8,Nc6', 'Rxb4,Ra8+,Bc8,Rxc8+,Qxc8', 'https://lichess.org/training/JVL5y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JvLOA', 'Rapid', 'darekkoz', 2055, 'Sucresic', 2047, 'd4,Nf6,c4,e5,dxe5,Ng4,e4,Nxe5,Nf3,Nbc6,Nc3,d6,Be2,Be7,O-O,f5,Nxe5,Nxe5,f4,Ng6,exf5,Bxf5,Qd5,Qc8,Nb5,Rf8,Bd2,a6,Nd4,c6,Qf3,Qd7,Ba5,Bd8,Bxd8,Kxd8,g4,Be6,f5,Bg8,Qg3,Ne5,b3,c5,Nf3,Nxf3+,Bxf3,Kc7,Rad1,Rad8,Rf2,g6,Rfd2,gxf5,Rxd6,Qxd6,Rxd6,Rxd6,gxf5,Rxf5,Qxg8', 'Rg6+,Qxg6,hxg6', 'https://lichess.org/training/JvLOA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JvmBz', 'Classical', 'Agent_Kato', 1730, 'Igore47', 1598, 'e4,e5,Nf3,Nc6,Nc3,a6,d3,h6,Be2,Nf6,Be3,Bd6,h3,b5,a3,Bb7,O-O,Ne7,b4,Ng6,d4,O-O,dxe5,Nxe5,Rb1,Nxe4,Nxe4,Bxe4,Nxe5,Bxe5,Bc5,d6,Be3,Qf6,f3,Bg6,f4,Bc3,Bf3,Rab8,Qd5,Qe7,Qc6,Qxe3+,Kh1,Bf6,Qxc7,Qxf4,Bh5,Qg5,Bxg6,Qxg6,Qxd6,Qxc2,Rbc1,Qa4,Rxf6,Qxa3,Rff1,Ra8,Rc7,Rad8,Qf4,Qd3,Rxf7,Rxf7,Qxf7+,Kh8,Kh2,Qd6+,Qf4,Qd3,Qf7,Qd6+,Qf4,Qxf4+,Rxf4,Rd6,Kg3,Kh7,Re4,Rg6+,Kf3,Rf6+,Ke3,Rc6,g3,Rc4', 'Rxc4,bxc4,Kd4,c3,Kxc3', 'https://lichess.org/training/JvmBz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVnde', 'Rapid', 'BerndSchmidt', 1782, 'smr1111', 1753, 'd4,d5,c4,e6,Nf3,c5,dxc5,Bxc5,Nc3,Bb4,Bf4,Bxc3+,bxc3,dxc4,Qxd8+,Kxd8,e4,b5,a4,bxa4,Bxc4,Bb7,Ne5,Ke7,f3,f6,Nd3,Nc6,Nc5,e5,Be3,Na5,Rxa4,Nxc4,Rxc4,Bc8,O-O,Be6,Nxe6,Kxe6,Rc7,g5,Rxa7,Rxa7,Bxa7,Ne7,c4,Rc8,c5,Nc6,Bb6,h5,Rd1,Nd4,Kf2,f5,Rc1,fxe4,fxe4,g4,Kg3', 'Ne2+,Kh4,Nxc1', 'https://lichess.org/training/jVnde');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jvnO0', 'Rapid', 'Nurel', 2062, 'diammmond', 2079, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,g6,Bc4,d6,O-O,Bg7,Qe2,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Qd7,Qxd7+,Kxd7,Nf7,Bxc3,bxc3,Nf6,Nxh8,Rxh8,Rb1,b6,f3,Ne5,Rd1,Rc8,Rb3,Kc6,Bg5,Nc4,Kf2,Rf8,a4', 'Nxe4+,Ke2,Nxg5', 'https://lichess.org/training/jvnO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVo2C', 'Rapid', 'ahmedadelwahba', 1755, 'ZEBRA-347', 1664, 'e4,e5,f4,d6,Nf3,Nd7,Bc4,Be7,O-O,Ngf6,d3,O-O,Nc3,a6,fxe5,Nxe5,Nxe5,dxe5,Ne2,b5,Bb3,c5,c4,b4,a3,Bb7,axb4,cxb4,Ng3,Qd4+,Kh1,Bc8,Bd2,Bg4,Qc2,Rfd8,Nf5,Bxf5,Rxf5,Nxe4,dxe4,Qxd2,Rxe5,Bf6', 'Re8+,Rxe8,Qxd2', 'https://lichess.org/training/jVo2C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVoTs', 'Rapid', 'porebskis', 1809, 'dogmoon', 1840, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,c5,Bg5,Be7,Bxf7+,Kxf7,Ne5+,Ke8,Qf3,Rf8,Nd2,Nxe4,Qxe4,Bxg5', 'Nc6+,Be7,Nxd8', 'https://lichess.org/training/JVoTs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JvoTT', 'Rapid', 'slowandfast', 1873, 'alphatrader', 1937, 'd4,Nf6,c4,e6,Bg5,Nc6,Nf3,Bb4+,Nc3,Bxc3+,bxc3,b6,d5,exd5,cxd5,Na5,e4,h6,Bxf6,Qxf6,e5,Qe7,Be2,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,Re1,Rfe8,Qd3,Nb7,Re2,Nc5,Qd2,Rad8,Rae1,dxe5,Rxe5,Rxe5,Rxe5,Re8,Qd4,a5,c4,Qa4,Rxe8+,Qxe8,h3,Qa4,d6,cxd6,Qxd6,Qxa2,Qxb6,Qxc4,Qxa5,Qc1+,Kh2,Ne4', 'Qa8+,Kh7,Qxe4+', 'https://lichess.org/training/JvoTT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVqxR', 'Rapid', 'avive', 1759, 'darlingteen', 1737, 'd4,c6,c4,Nf6,Nc3,e6,Nf3,d5,Bg5,Be7,e3,O-O,cxd5,exd5,Bd3,Bg4,h3,Bh5,Be2,Nbd7,g4,Bg6,Bd3,Ne4,Nxe4', 'dxe4,Bxe7,Qxe7', 'https://lichess.org/training/JVqxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JvrEB', 'Rapid', 'north_mac_man', 1668, 'Macla002', 1664, 'e4,c5,d4,cxd4,c3,Nc6,Nf3,d6,Nxd4,Nxd4,cxd4,Nf6,Nc3,e5,d5,Qa5,Bd2,Qb6,b3,Ng4,Qe2,a6,h3,Nf6,g4,Be7,g5,Nd7,h4,Nc5,Bh3,O-O,f4,Bxh3,Rxh3,exf4,Bxf4,Qa5,Qb2,Nxe4', 'b4,Qc7,Nxe4', 'https://lichess.org/training/JvrEB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jvtkt', 'Classical', 'knockemout1', 1912, 'Deepgarg', 1825, 'd4,d5,Nf3,Bg4,Ne5,Bh5,g4,Bg6,f4,Be4,Rg1,e6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nf6,Bg2,Bxg2,Rxg2,Nfd7,Qd3,Nxe5,fxe5,Qg5,Qb5+,Nc6,Qxb7,Kd7,Qb5,Rhb8,Qd3,g6,e3,Nb4,Qd2,a5,a3,Qh4+,Qf2', 'Nxc2+,Kd1,Qxf2,Rxf2,Nxa1', 'https://lichess.org/training/Jvtkt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jvtrA', 'Classical', 'Tadeomariano-7194', 1876, 'TombstoneGrave', 1962, 'd4,Nf6,c4,e5,e3,exd4,exd4,d5,Nf3,Bg4,h3,Qe7+,Be3,Qb4+,Qd2,Bxf3,gxf3,dxc4,Nc3,Nc6,O-O-O,O-O-O,d5,Ne5,Qd4,Nc6,Qf4,Bd6', 'Qf5+,Nd7,dxc6', 'https://lichess.org/training/jvtrA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVuif', 'Classical', 'Springer115', 1642, 'mahfoudh', 1660, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Nf6,h3,c6,a4,d5,exd5,cxd5,Bb5+,Bd7,O-O,e4,Qf5,g6,Bxd7+,Qxd7,Qxf6,Rg8,Qe5+,Be7,Re1,f6,Qd4,O-O-O,d3,Kb8,dxe4,Rc8,Be3,Bc5,Qxd5,Qe7,Bf4+,Ka8,Qd2,Rgd8,Qe2,g5,Bh2,Qf7,e5,Re8,e6,Qg6,b4,Be7,b5,h5,c4,g4,hxg4,hxg4,Bf4,f5,g3,Rh8,Qe5,Qh5,Kf1', 'Qh1+,Ke2,Qf3+', 'https://lichess.org/training/JVuif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVUs3', 'Rapid', 'yaniberd', 1741, 'Maerad', 1705, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,Nc3,Be6,d4,c6,d5,cxd5,Nxd5,Bxd5,exd5,Qa5+,c3,Qxd5,Qxd5+,Nxd5,Bc4,Ke6,O-O,Nc6,Re1+,Ne5,f4,Rc8,Bb3,a5,fxe5,dxe5,Bf4,Bc5+,Kh1,Bd6,Rad1,Rc5,Be3,Rb5,Bf2,Rf8,Bg3,Rc5,h3,b5,c4,bxc4,Ba4,Nb6,Bc2,g6,Rd2,Rb5,Red1,Bc5,Re2,Bd4', 'Rxd4', 'https://lichess.org/training/JVUs3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jvuwm', 'Rapid', 'Baketerziu', 1967, 'TOPA81', 1970, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,Ne5,Be2,N7c6,O-O,Bxd4,cxd4,Ng6,Nc3,d6,Qd2,h6,Nd5,Qd8,Rac1,O-O,f4,f5,e5,dxe5,fxe5,Qxd5', 'Bc4,Qxc4,Rxc4', 'https://lichess.org/training/Jvuwm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVuWq', 'Blitz', 'Ernestillo55', 1789, 'Gerry1978', 1755, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Qb6,Ne2,Qxb5,O-O,cxd4,a4,Qb6,cxd4,Nge7,Nbc3,a6,Bg5,Nf5,Be3,Bb4,Rb1,Bxc3,bxc3,Qc7,g4,Nxe3,fxe3,Qe7,Nf4,Qg5,Ng2,Na5,h4,Qe7,g5,Nc4,Qe2,Rb8,Rf3,b5,Rbf1,O-O,Rg3,bxa4,h5,Rb2,Qg4,Nd2,Rf2,Rb1+,Kh2,Ne4,g6,Nxf2', 'gxh7+,Kxh7,Qxg7#', 'https://lichess.org/training/JVuWq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVVEJ', 'Classical', 'jamestgr', 2082, 'Sebartak', 1938, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,Bc5,Nc3,d6,Na4,Bb6,Nxb6,axb6,c3,O-O,Re1,Be6,Bb5,Ne7,Ba4,c6,d4,Ng6,Bc2,Qd7,a3,Rad8,Be3,b5,dxe5,Nxe5,Nxe5,dxe5,Bb6,Qxd1,Raxd1,Rxd1,Rxd1,h5,f3,Nd7,Bf2,Nf6,Bh4,Nh7,Bd8,g5,h4,g4,Kf2,Kg7,a4,bxa4,Bxa4,Nf6,b4,Nd7,Bg5,Nb6,Bc2,Nc4,Ra1,f6,Bc1,b5,Ra7+,Rf7,Ra8,Rf8', 'Bh6+,Kxh6,Rxf8', 'https://lichess.org/training/jVVEJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVWBj', 'Classical', 'mezyk899', 1695, 'matago90', 1623, 'e4,c6,d3,d5,exd5,cxd5,h3,Nf6,c3,e5,Nd2,Nc6,Ngf3,Bd6,g3,O-O,Bg2,Re8,O-O,Bf5,d4,e4,Nh4,Bd7,Qb3,Qc7,Re1,Bxg3,Nxe4,Nxe4,Qxd5,Bxf2+,Kh1,Bxe1,Bxe4,Bxh4,Qh5,Rxe4,Bh6,Rae8,Rf1,Re1', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/JVWBj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVwd3', 'Rapid', 'Bot_Jaysea', 1629, 'sslaventiy', 1701, 'd4,b6,e4,Bb7,d5,g6,f3,Bg7,c4,d6,Nc3,Qd7,Qa4', 'Bxc3+,bxc3,Qxa4', 'https://lichess.org/training/jVwd3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jVwje', 'Classical', 'M4tt4ck', 1820, 'resueraromeoramil', 2167, 'e4,e5,Nf3,d6,d4,Nd7,Nc3,Ngf6,Be2,c6,O-O,Be7,h3,O-O,Be3,Qc7,Qd2,Re8,dxe5,dxe5,a3,Nf8,Rad1,Ng6,b4,Bf8,Bd3,h6,Na4,b6,Nb2,Nh5,c4,Nhf4,Qc2,Be6,c5,b5,a4,a6,Qc3,f6,Bc2,Qf7,Rd2,Rad8,Rfd1,Be7,Nd3,Kf8,axb5,axb5,Nxf4,Nxf4,Rxd8', 'Ne2+,Kh2,Nxc3', 'https://lichess.org/training/jVwje');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVWNS', 'Rapid', 'ajdin_derlic', 1748, 'Sooke', 1818, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,Be7,Bc4,O-O,O-O,b6,Kh1,Bb7,a3,Re8,f3,Bd6,Bg5,Be5,Qd3,c6,Rad1,d5,exd5,cxd5,Nxd5,Bxd5,Bxd5,Rc8,c3,h6,Bh4,g5,Bf2,Nxd5,Qxd5,Qxd5,Rxd5,Rcd8,Rfd1,Rxd5,Rxd5,f6,g3,Kf7,Rd7+,Re7,Rxe7+,Kxe7,Kg1,Kd6,Kf1,Kd5,Ke2,Kc4,Kd2,Kb3,Bd4,Bxd4', 'cxd4,Kc4,Ke3', 'https://lichess.org/training/JVWNS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jvWZH', 'Classical', 'jbm415', 1706, 'Ignacioar', 1699, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d4,a6,Bxc6,Nxc6,d5,Na5,Bd2,Nc4,Bc3,d6,Nbd2,Nxd2,Qxd2,g6,O-O-O,Bg7,h3,O-O,g4,Qf6,Qe2,Qf4+', 'Bd2,Qf6,Bg5,Qxg5+,Nxg5', 'https://lichess.org/training/jvWZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVXD7', 'Blitz', '0ktyabrenok', 2086, 'Pitrinu', 2017, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,b5,Be3,Be7,Qe2,O-O,O-O-O,Qc7,g4,Nc6,g5,Nxd4,Rxd4,Nd7,Rg1,Re8,Qh5,Bb7,e5,dxe5,Rh4,Nf8,g6,Bxh4,gxf7+,Qxf7,Qxh4,Ng6,Qh5,b4,Na4,Bd5,Nb6,Rad8,Nxd5,exd5,Bg5,Rd6,Qe2,Nf4,Bxf4,Qxf4+,Kb1,Rf8,Rd1,Qxf2,Qd3,Qf5,Bxd5+,Kh8,Qc4,Rfd8,Qc7,Rxd5', 'Qxd8+,Rxd8,Rxd8+,Qf8,Rxf8#', 'https://lichess.org/training/JVXD7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jvxuP', 'Blitz', 'FM Diego_Flores', 2432, 'catafracta40', 2167, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nc3,Be7,Bd3,Nc6,Nge2,O-O,O-O,Bg4,f3,Bd7,b3,Bf6,Be3,Re8,Qd2,g6,Rad1,Qe7,Bf2,Rad8,Rfe1,Qf8,Nb5,Rc8,d5,Ne5,Nxa7,Nxd3,Nxc8,Nxe1,Nxb6,Nxf3+,gxf3,cxb6,Bxb6,Qg7,Ng3,h5,Bd4,Bxd4+,Qxd4,Re1+,Kf2,Rxd1,Qxd1,Qb2+,Qe2,Qd4+,Kg2,h4,Ne4,h3+,Kg3,f5,Nf2', 'f4+,Kh4,Qf6#', 'https://lichess.org/training/jvxuP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JVYK8', 'Rapid', 'Alzit', 2058, 'Artian12', 2090, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,h6,Bh4,Nbd7,Bd3,O-O,Qc2,c5,Nge2,b6,O-O,Bb7,f3,Rc8,a4,a6,Bf2,Re8,Ng3,Nf8,Bf5,Ne6,Bxe6,fxe6,Nge2,Bd6,Qg6,Qe7,e4,dxe4,fxe4,cxd4,Bxd4,e5,Bxb6,Rf8,Be3,Bc5,Bxc5,Qxc5+,Kh1,Kh8,Rf3,Nh7,Rf7,Rxf7,Qxf7,Bc6,Rf1', 'Rf8,Qxf8+,Nxf8', 'https://lichess.org/training/JVYK8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JW2C8', 'Classical', 'yimihc', 1937, 'DSelvaraj', 1843, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,Nc6,Bb5,Bd7,O-O,cxd4,cxd4,a6,Ba4,b5,Bb3,Bd6,e5,Bc7,Be3,O-O,Rc1,Rc8,Qe2,Qe7,a4,Na5,Ba2,Bb6,d5,Bxe3,d6,Bxf2+,Qxf2,Qe8,Qb6,Nc4,Bxc4,Rxc4,Rxc4,bxc4,Qxa6,Bxa4,Nd4,Qd7,Ra1,Bb3,Nxb3,cxb3,Qb6,f6,Ra7,Qc8,Rc7,Qb8', 'Qxb8,Rxb8,d7,Rd8,Rc8', 'https://lichess.org/training/JW2C8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JW2UH', 'Classical', 'aboraia', 1964, 'AhmedElshab', 1777, 'Nf3,e6,d4,d5,c4,dxc4,e4,c5,Bxc4,cxd4,O-O,Nc6,Bb5,Ne7,Nxd4,Bd7,Be3,Nxd4,Bxd7+,Qxd7,Bxd4,O-O-O,Qc2+,Kb8,Be5+,Ka8,Nc3,Rc8,Rfd1,Qc6,Rd6,Qe8,Rad1,Nc6,Nb5,a6,Rxc6,Rxc6', 'Qxc6,bxc6,Nc7+,Kb7,Nxe8', 'https://lichess.org/training/JW2UH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jw3W0', 'Rapid', 'gogolo', 1617, 'emanuelshai', 1665, 'b4,e5,Bb2,e4,e3,Nf6,a4,Bxb4,Ba3,Nc6,c3,Be7,Bb5,a6,Bxc6,dxc6,Ne2,Bg4,O-O,Qd3,Re1,Bxa3,Rxa3,O-O,c4,Qxc4,Nbc3,b5,axb5,cxb5,Nb1,a5,Rc3,Qe6,d4,Nd5,Rc5,b4,Qa4,Qa6,Nf4,Nxf4,exf4,Qb7,Rxa5,Rxa5,Qxa5,Ra8,Qe5,b3,Rxe4,Bd7,h3,h6,d5,Qa6,Qxc7,Bf5,Re7,Bg6,Qb7,Qa1,Kh2,Qxb1,Qxa8+,Kh7,d6,b2,d7,Qd3,Qb7,b1=Q', 'Qxb1,Qxb1,d8=Q', 'https://lichess.org/training/jw3W0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jW4Hj', 'Blitz', 'bretstclair', 1762, 'JVallejos', 1655, 'd4,Nf6,e3,e6,Bd3,g6,f4,Bg7,c3,d5,Nd2,O-O,Ngf3,c5,Ne5,Nc6,O-O,cxd4,exd4,Qb6,Kh1,Nxe5,fxe5,Nd7,Rf3,f6,exf6,Nxf6,Rg3,Nh5,Rh3,e5,dxe5,Bxh3,gxh3,Bxe5,Qg4,Rf4,Qg2,Raf8,Qxd5+,Kh8,Qxe5+,Ng7,Ne4', 'Rf1+,Bxf1,Rxf1+,Kg2,Qg1#', 'https://lichess.org/training/jW4Hj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JW57P', 'Rapid', 'show_me_patzer', 1989, 'JeffersonMoreira', 2024, 'b3,e5,Bb2,Nc6,e3,d6,Bb5,Bd7,Nf3,Be7,d4,Nf6,Bxc6,Bxc6,dxe5,Bxf3,Qxf3,dxe5,Bxe5,O-O,O-O,c6,c4,Qa5,Bc3,Qc7,Nd2,Rad8,Rfd1,Rd7,Nf1,Rfd8,Ng3,Ne8,Rxd7,Rxd7,Rd1,Bf6,Rxd7,Qxd7,Bxf6,Nxf6,h3,h6,Nf5,Kf8,Nxh6,Qd2,Qf4,Qxa2,Qd6+,Ke8,Nf5', 'Qb1+,Kh2,Qxf5', 'https://lichess.org/training/JW57P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jW6GO', 'Blitz', 'Yorka', 1984, 'FM SpeedMonkey', 2538, 'd4,g6,e4,Bg7,Nc3,a6,Nf3,b5,a3,Bb7,Bg5,h6,Bf4,d6,Qd2,Nd7,O-O-O,Rc8,e5,c5,exd6,Bxf3,dxe7,Nxe7,gxf3,cxd4,Ne4,O-O,Bxh6,Nc5,Bxg7', 'Nb3+,Kb1,Nxd2+', 'https://lichess.org/training/jW6GO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jw8sl', 'Rapid', 'almoza58', 1904, 'W_Batman-WYD', 1766, 'e4,c5,Bc4,e6,Nf3,a6,Nc3,b5,Bd3,Nc6,e5,d6,exd6,Bxd6,Be4,Bb7,d4,Nf6,dxc5,Bxc5,Bxc6+,Bxc6,Qxd8+,Rxd8,Bg5,Bxf3,gxf3,Be7,Bxf6,Bxf6,Ne4,Bxb2,Rb1,Be5,Nc5,Rc8,Nxa6,Rxc2,Rxb5', 'Rc1+,Ke2,Rxh1', 'https://lichess.org/training/jw8sl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jW8ws', 'Rapid', 'marcoleite', 1714, 'RoyLozano', 1759, 'e4,e5,Bb5,Bc5,Nf3,c6,Ba4,d6,d4,exd4,Nxd4,Nf6,Nc3,O-O,O-O,Bg4,Nde2,Re8,Bg5,h6,Bxf6,Qxf6,Kh1,d5,f3,Bh5,exd5,Re5,Ne4,Qe7,dxc6,bxc6,c3,Bb6,Nf4,Bg6,Nxg6,fxg6,Qb3+,Kh7,Rad1,Rh5,h3,Qe5,g4', 'Rxh3+,Kg2,Rh2#', 'https://lichess.org/training/jW8ws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwa0m', 'Rapid', 'CeoPablo', 1653, 'Graphirus', 1871, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,a3,d6,b4,Bb6,d3,Bg4,h3,Bh5,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,Qe2,Nd4,Qd1,Nxf3+,gxf3,Qh4,Kh2,c6,Ne3,Qf4+,Kg2,Bd8,Nf5,g6,Nxd6,Kg7,Nxb7,f5,Nc5,fxe4,dxe4', 'Bxf3+,Qxf3,Qxf3+', 'https://lichess.org/training/jwa0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jwa3i', 'Rapid', 'mehdi-abadeh', 1790, 'tire', 1709, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,a3,Bc5,O-O,a6,d3,O-O,Nd5,Re8,Ne1,Na5,Ba2,c6,Nxf6+,Qxf6,Be3,Be7,f4,Rf8,fxe5,Qxe5,Rf5,Qxb2,Rxa5,b5,a4,Bf6,d4,Qc3,axb5,Qxa5', 'Bxf7+,Rxf7,Rxa5', 'https://lichess.org/training/Jwa3i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JWAsY', 'Classical', 'garkveila', 1824, 'Viktor2021', 1996, 'e4,c5,d4,cxd4,Nf3,e5,Bc4,d6,c3,dxc3,Nxc3,Be6,Bxe6,fxe6,Ng5,Qf6,f4,Nc6,O-O,O-O-O,Qg4,Nd4,fxe5,Qg6,Be3,dxe5,Bxd4,exd4,Nb5,a6,Rac1+,Kb8,Qf4+,Ka8,Qxf8,Qxg5', 'Rc8+,Rxc8,Qxc8#', 'https://lichess.org/training/JWAsY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwayM', 'Rapid', 'Skakac2000', 1951, 'SkyBabee', 1945, 'e4,e6,d4,g5,Nc3,d6,Nh3,h6,Be2,Bd7,f3,Bg7,Be3,Nc6,Nf2,Qe7,Qd3,e5,d5,Nd4,Bf1,b6,g3,Nxf3+,Ke2,Nd4+,Kd2,f5,Bg2,fxe4,Bxe4,O-O-O,a4,Nf6,Bg2,Bf5,Nce4,Nxd5,a5,Nxe3,Kxe3,Bxe4,Bxe4,Kd7,axb6,axb6,c3,c5,cxd4,cxd4+,Ke2,Ke8,Bg6+,Kf8,Rhf1,Kg8,Ng4,d5,Rf7,Qe6,Raf1,Qxg4+,Kd2,e4', 'Rxg7+,Kxg7,Qxd4+', 'https://lichess.org/training/jwayM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwBJe', 'Rapid', 'hphp1750', 1612, 'Dalabonanchess', 1657, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bg4,Nbd2,e6,h3,Bh5,g4,Bg6,Ne5,Ne7,Nxg6,Nxg6,Nf3', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/jwBJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jWBTo', 'Rapid', 'bencc', 1620, 'Lalubhaliya', 1630, 'c4,e5,Nc3,Nf6,e3,d6,d4,e4,Qc2,c6,Bd2,Bf5,g3,h6,Bg2,d5,c5,Be7,Nge2,Qd7,Nf4,g5,Nfe2,Bh3,O-O,Bxg2,Kxg2,Qe6,Qb3,Qd7,Na4,h5,h3,h4,g4,Nxg4,hxg4,Qxg4+,Kh2,Qxe2,Qxb7,Nd7', 'Qxa8+,Bd8,Ba5', 'https://lichess.org/training/jWBTo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwcUA', 'Rapid', 'DoriaNNN', 1949, 'alfaxedrez', 2222, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,O-O,Be7,f4,b5,Bb3,b4,Na4,O-O,Qf3,Bb7,Re1,Nc6,Be3,Nd7,Rad1,Nxd4,Bxd4,Qc7,Qg4,Bf6,e5,dxe5,fxe5,Nxe5,Qg3,Rad8,c3,bxc3,bxc3,Bc6,Bxe5,Bxe5,Qxe5,Qa7+,Kh1,Qf2,Qg3,Qf5,Qe5,Rxd1,Bxd1,Qf2,Qg3', 'Bxg2+,Qxg2,Qxe1+', 'https://lichess.org/training/jwcUA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jwg4f', 'Classical', 'I_am_great_man', 1682, 'Marioparty', 2137, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,a5,a4,Ng4,Qxg4,Nxd4,Bxd4,Bxd4,Qg3,e5,O-O-O,d6,Nb5,Bc5,h4,Qf6,f3,Be6,Bxe6,fxe6,h5,Rad8,hxg6,hxg6,Qh3,Qg7,Qxe6+,Rf7,Nxd6,Bxd6,Rxd6,Rxd6,Qxd6,Rd7,Qe6+,Kf8,Rh8+,Qxh8,Qxd7,Qh1+,Qd1,Qxg2,Qd6+,Kf7,Qd5+,Kf6,Qd6+,Kf7,Qd7+,Kg8,Qe6+,Kh7,Qf7+,Kh6,Qxb7,Qf1+,Kd2,Qf2+,Kc1', 'Qe1#', 'https://lichess.org/training/Jwg4f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jWgr1', 'Rapid', 'arnold999', 1759, 'Zastrozhyn', 1945, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,cxd4,Qxd4,Nc6,Bb5,Bxc3+,Qxc3,Ne7,f4,Bd7,Nf3,O-O,O-O', 'Qb6+,Be3,Qxb5', 'https://lichess.org/training/jWgr1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JwHpW', 'Rapid', 'unclekotsos', 1921, 'anatolii50', 1826, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Bc4,e6,Bb3,Bd7,Bg5,Be7,f4,Na5,e5,Nxb3,exf6,gxf6,Bh4,Nxa1,Qxa1,f5,Bf2,Rg8,O-O,Bh4,Nf3,Bxf2+,Rxf2,Qb6,Kf1,Bc6,b3,Ke7,Qe1,Qa6+,Kg1,Rac8,a4,Rg7,Nd4,Kd7,Ndb5,Qb6,Kh1,Rcg8,Qd2,Qxf2', 'Qxd6+,Ke8,Nc7#', 'https://lichess.org/training/JwHpW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JWhsr', 'Rapid', 'ifekali', 1664, 'dauthdaert', 1815, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Nc3,Bd6,Bg5,c6,Be2,O-O,Qd2,Bf5,O-O-O,Nbd7,h4,h6,Bxh6,gxh6,Qxh6,Nh7,Ng5,Bf4+,Kb1,Qf6,Qh5,Qg6,Qf3,Bxc2+,Ka1,Bxg5,Bd3,Bxd3,Rxd3,Be7,h5,Qg5,Rh3,Kh8,Rg3,Qf6,Qg4,Rg8,Qxd7,Rxg3,fxg3,Rb8,a3,Qd6,Qf5,Qe6,Qf4,Bd6,Qf3,Ng5,Qf2,Re8,Nd1,Ne4,Qg1,Bxg3,Re3,Qf5,Nc3,Bf2,Qf1,Re6,Rf3,Qxh5,Rh3,Bh4,Nxe4,Rxe4,g3,Rxd4,Rxh4,Rxh4,gxh4,Kg8,Qf4,Kg7,Qg3+,Qg6,Qc7,Qg1+,Ka2,Qb6,Qe5+,Kf8,h5,Qd8', 'Qh8+,Ke7,Qxd8+,Kxd8,h6', 'https://lichess.org/training/JWhsr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JWI9H', 'Rapid', 'ferrucciolari', 1806, 'kiasar', 1742, 'e4,e5,f4,exf4,Nf3,Nf6,Nc3,Nh5,Bc4,Bc5,d4,Bb4,O-O,Bxc3,bxc3,O-O,Ne5,Qg5,Ba3,d6,Nf3,Qg6,Bd3,Nc6,e5,Bf5', 'Nh4,Bxd3,Nxg6', 'https://lichess.org/training/JWI9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jWJ17', 'Blitz', 'CM MasterHinds', 2283, 'Training88', 2258, 'd4,b5,c4,bxc4,d5,Bb7,e4,Nf6,Nc3,e6,dxe6,fxe6,Bg5,d5,e5,h6,Bxf6,gxf6,Qh5+,Kd7,O-O-O,fxe5,Bxc4,Bd6,Nxd5,exd5,Bxd5,Bxd5,Rxd5,Qg5+,Qxg5,hxg5,Nf3,Ke6,Rdd1,g4,Ng5+,Kf6,Ne4+,Ke6,Ng5+,Kf5,Nf7,Rf8,Nxd6+,cxd6,Rxd6,a5,h3,gxh3,Rxh3,Na6,Rxa6,Rxa6', 'Rf3+,Ke4,Rxf8', 'https://lichess.org/training/jWJ17');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jWJ39', 'Rapid', 'Medo_Salem2019', 1769, 'lmio', 1803, 'd4,g6,e4,Bg7,Nc3,b6,Nf3,Bb7,Bc4,d6,O-O,e6,d5,Ne7,Bg5,e5,a3,O-O,Nh4,f6,Be3,g5,Nf5,Nxf5,exf5,Bc8,g4,h5,h3,hxg4,Qxg4,Kf7,Qh5+,Ke7,Bxg5,Rh8,Qg6,Qf8,Be3,Rxh3,Kg2,Rh6,Qg4,Nd7,Rh1,e4,Bxh6,Bxh6,Qxe4+,Ne5,f4,Bxf5,Qxf5,Qg7+,Kf1,Nxc4,Re1+,Kf8,Rg1,Qf7,Rg6,Bg7,Re6,Re8,Ne4', 'Ne3+,Kf2,Nxf5', 'https://lichess.org/training/jWJ39');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwjod', 'Blitz', 'Batzaris', 2055, 'IM irakliberadze', 2480, 'd4,Nf6,c4,c5,d5,d6,Nc3,e5,e4,g6,g3,Bg7,Bg2,O-O,Nge2,Nh5,O-O,f5,f4,exf4,gxf4,fxe4,Nxe4,h6,N2g3,Nf6,Kh1,Nxe4,Bxe4,Bf5,Qc2,Bxe4+,Nxe4,Qe7,Bd2,Nd7,Rae1,Rae8,Ng5,Qf6,Bc3,Rxe1,Rxe1,Qxf4,Bxg7,Rf5,Ne6,Qh4,Rg1', 'Rf2,Qxf2,Qxf2', 'https://lichess.org/training/jwjod');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jWkvt', 'Rapid', 'mistabassa', 1622, 'gani211212', 1922, 'e4,c5,Nf3,d6,Bc4,Bg4,O-O,g6,a4,Bg7,d3,Nc6,c3,Ne5,Nbd2,Nxc4,dxc4,Nf6,Qe2,O-O,h3,Bxf3,Nxf3,Nd7,Bg5,f6,Bh4,f5,exf5,Rxf5,Bxe7,Qe8,Rae1,Ne5,Bxd6,Nxf3+,gxf3,Qxe2,Rxe2,Rxf3,Rfe1,b6,Re8+,Rxe8,Rxe8+,Bf8,Bb8,Rf7,Kg2,Kg7,Be5+,Kh6,Kg3,Kg5,h4+,Kh5,Bf4,Be7,Bg5,Bxg5,hxg5,Kxg5,Re5+,Rf5,Re7,h5,Rxa7,h4+,Kg2,Kg4,Rh7,g5,Rh6,Rf3,Rxb6,h3+,Kf1', 'h2,Kg2,Rxf2+,Kxf2,h1=Q', 'https://lichess.org/training/jWkvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwL6T', 'Rapid', 'cebra', 1639, 'Mancheng', 1649, 'e4,e5,Qh5,d6,Bc4,g6,Qf3,Nf6,h3,c6,a4,Be7,d3,O-O,Bh6,Re8,c3,Bf8,Be3,d5,exd5,cxd5,Bb5,Bd7,Ne2,Bg7,O-O,Bxb5,axb5,e4,dxe4,dxe4,Qg3,Nh5,Qh2,f5,Nf4,Be5,g3,Nxf4,gxf4,Bf6,Nd2,Nd7,Nc4,Re6,Rxa7,Rxa7,Bxa7,Qa8,Be3,Qa4,Na3,Qb3,Rb1,Qa2,h4,Be7,Rf1,Qxb2,Nc4,Qxc3,Ne5,Nxe5,fxe5,Rxe5,h5,Rxb5,hxg6,hxg6,Qh6,Kf7,Qh7+,Qg7,Qh2,g5,Qh5+,Qg6,Qe2,Rd5,Qa2,Qc6,Rd1,Ke6,Rc1,Qb5,Rc7,f4,Ba7,Qb4,Rxe7+,Kxe7,Qxd5,Qe1+,Kg2,f3+,Kg3', 'Qg1+,Kh3,Qg2#', 'https://lichess.org/training/jwL6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JWLlC', 'Blitz', 'larduet', 2373, 'NM Matthew-Fishbein', 2423, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,h4,O-O,h5,dxc4,hxg6,hxg6,e3,c5,Bxc4,cxd4,exd4,Nc6,d5,Na5,Be2,Bg4,Bh6,Bxh6,Rxh6,Kg7,Qd2,Rh8,Rxh8,Qxh8,O-O-O,Rc8,Qd4,Bxf3,gxf3,Qh6+,Kb1,b6,Ne4,Qf4,Ba6,Rd8,d6,exd6,Bb5,d5,Nxf6,Qxf6,b4,Nb7,Bc6,Nd6,Qxf6+,Kxf6,Rxd5,Ke6,Rd2,Rc8,b5,Nf5', 'Bd7+,Ke7,Bxc8', 'https://lichess.org/training/JWLlC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jWlvg', 'Rapid', 'ArGen1963', 1698, 'Anonymous_28', 1762, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,Bxc3+,bxc3,dxc6,Qxd8+,Kxd8,Bf4,Nxe4,Bc4,Be6,Rd1+,Ke7,Bxe6,fxe6,Rd3,Rhf8,g3,Nc5,Re3,Rac8,O-O,h6,Rd1,g5,Be5,Rf5,Bd4,Rd5,Rde1,Kf7,Rf3+,Ke7,Bf6+,Kd7,Bg7,h5,Rf7+,Ke8,Rf8+,Kd7,Rf7+,Kd6,Be5+,Rxe5,Rd1+,Rd5,Re1,b5,Rh7,h4,gxh4,gxh4,Rxh4,Rg8+,Kf1,Na4,c4,Re5,Rd4+,Kc5,Rd7,Rxe1+,Kxe1,Rg1+,Ke2,Kb6,cxb5,cxb5,h4,Rh1,Rh7,Nc5,h5,Ne4,h6,Nf6,Rh8,Rxh6,Rxh6,Nd5,Rxe6+,c6,Rh6,a5,Kd3,Kc5,Rh5,Kd6,Kd4', 'c5+,Kd3,Nf4+,Ke3,Nxh5', 'https://lichess.org/training/jWlvg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwLz5', 'Rapid', 'gart77', 1835, 'valdesvaescuela', 1826, 'e4,d6,d4,Nf6,Nc3,c6,e5,dxe5,dxe5,Qxd1+,Nxd1,Nd5,Bc4,e6,Nf3,Nd7,Ne3,N7b6,Bxd5,Nxd5,Nxd5,cxd5,Bd2,Bd7,O-O-O,Be7,Nd4,O-O,h4,Rfc8,Kb1,Rc4,c3,b5,g4,a5,g5,b4,Rc1,bxc3,bxc3,Rb8+,Ka1,Ba3,Rb1,Rxb1+,Rxb1,g6,f4,Bc5,Be3,Bxd4,Bxd4,Rc8,Rb7,Ba4,Ra7,Rb8,Rxa5,Bc2,a3,Rb1+,Ka2,Rb8,a4,Bb3+,Ka3,Bc4,Bc5', 'Rb3+,Ka2,Rb5+', 'https://lichess.org/training/jwLz5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JwNSP', 'Blitz', 'hrpdalmi', 2072, 'nosoynirvana', 1965, 'b3,Nf6,Bb2,g6,e3,Bg7,f4,O-O,Nf3,d6,Be2,Nc6,O-O,Re8,Bb5,Bd7,d3,a6,Bxc6,Bxc6,Nbd2,Nd5,Qe1,e5,e4,Nxf4,Kh1,h6,Nc4,b5,Ne3,d5,Rd1,d4,Ng4,Qd6,Qh4,g5,Qf2,Bd7,h3,Bxg4,hxg4,Qe6,Qg3,c5,Ng1,Rec8,Qf3,c4,g3,Ng6,Ba3,a5,Rf2,b4,Bb2,c3,Bc1,a4,Rdf1,Rc7,Kg2,axb3,axb3,f6,Nh3,Ra2,Qf5,Qxf5,gxf5,Ne7,g4,Nc6,Re2,Kh8,Nf2,Kh7,Nh1,Bf8,Ng3,Be7,Nh5,Na5,Kf3,Ra7,Rh1,Ra1,Reh2,Nc6,Nxf6+,Bxf6,Rxh6+,Kg8,Rxf6,R7a2,Rxc6,Rxc2,Rch6,Raxc1', 'Rh8+,Kf7,R1h7+,Kf6,Rf8#', 'https://lichess.org/training/JwNSP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jWnzR', 'Blitz', 'patte_au_beurre', 1592, 'Serega1974', 1591, 'g3,e5,c4,Bc5,Nc3,Nf6,Nf3,d6,d4,exd4,Nxd4,O-O,Bg2,c6,O-O,Re8,Re1,Bg4,h3,Bh5,g4,Bg6,Bf4,Bb4,Qd2,Be4,a3,Bxg2,Kxg2,Ne4,Qd3,Nc5,Qg3,Bxc3,Qxc3,Ne4,Qb3,Re7,f3,Nc5,Qc3,f6,g5,Rf7,gxf6,Rxf6,Bg5,Rg6,h4,Qd7,b4,Nca6,Qb3,h6,c5+,d5,Kf2,hxg5,hxg5,Rxg5,Rg1,Rxg1,Rxg1,Qf7,Qc3,Nd7,Ne6,g6,Nf4,Qxf4,Rxg6+,Kf8,Qh8+,Ke7,Qxa8,Qd4+,e3,Qb2+,Kg3,Qe5+,f4,Qxe3+,Kg4,Qe2+,Kf5,Qe4+,Kg5,Qg2+,Kf5,Qh3+,Kg5,Qg3+,Kf5,Qd3+,Kg5,Nc7', 'Rg7+,Ke6,Qg8#', 'https://lichess.org/training/jWnzR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JWOGc', 'Blitz', 'Voraps', 1776, 'alecastmon', 1748, 'd4,f5,c4,g6,Nc3,Bg7,Bg5,Nf6,e4,fxe4,Be2,O-O,h4,d5,Qb3,c6,Nh3,Ng4,cxd5,cxd5,Nxd5,Kh8,Bxe7,Qa5+,Bb4,Qd8,Bxf8,Bxf8,Ndf4,Qa5+,Kf1,Qf5,Rc1,Nc6,d5,Ne7,Rc7,e3,Bxg4,Qxg4,Qxe3,Qd1+,Qe1,Qd4,h5,Bxh3,hxg6,Qxf4,Rxh3,Qxc7', 'Rxh7+,Kg8,Qe6#', 'https://lichess.org/training/JWOGc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwpw3', 'Rapid', 'Nik1954', 1868, 'Saiful_Shaheen', 1806, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,a6,a4,Nf6,Nc3,Bb4,Bg5,Bxc3+,bxc3,Nxd4,cxd4,Qa5+,Bd2,Qb6,e5,Ne4,c3,Qc7,Bd3,Nxd2,Qxd2,O-O,O-O,f5,exf6,Rxf6,Rfe1,b6,Re3,Bb7,Rg3,Raf8,Qg5,g6,h4,Qxc3,Rf1,Qxd4,h5,Rxf2,Rxf2,Qxf2+,Kh2,Qf4,hxg6,Qxg5,gxh7+,Kf7,Rxg5,Rh8,Bg6+,Kf6,Rg3,b5,axb5,axb5,Bd3,b4', 'Rg8,Rxh7+,Bxh7', 'https://lichess.org/training/jwpw3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JWrPh', 'Rapid', 'jHeidari', 2090, 'Dimas2007', 2065, 'c4,e6,Nc3,Nf6,g3,d5,Bg2,g6,cxd5,exd5,Nf3,Bg7,O-O,O-O,Qc2,c6,d3,Nbd7,Bg5,Nc5,a4,Re8,b4,Ne6,Bd2,d4,Na2,Nd5,b5,c5,Rac1,b6,Rfe1,Bb7,e3,Qf6,e4,Ne7,a5,Nc7,a6,Bc8,e5,Qf5,Nh4,Qg4,h3,Qe6,Rb1,Rb8,f4,Bd7,Nf3,Bxb5,Ng5,Qc8,Rxb5,Nxb5,Bb7,Qd7,Qb3,Nf5,Nxf7,Qxf7', 'Bd5,Qxd5,Qxd5+', 'https://lichess.org/training/JWrPh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JwT3j', 'Blitz', 'xxxsingularitexxx', 1966, 'KaspeRr_1999', 1988, 'e4,e6,d4,d5,Nc3,Nf6,exd5,Nxd5,Nxd5,Qxd5,c4,Qd8,Nf3,Nd7,Bf4,Nf6,Ne5,Bd6,Qa4+,c6,Nxc6,bxc6,Qxc6+,Bd7,Qxd6,Qa5+,Bd2', 'Qxd2+,Kxd2,Ne4+,Ke3,Nxd6', 'https://lichess.org/training/JwT3j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwU6D', 'Rapid', 'Caballo0520', 1881, 'Abd_1960', 1806, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,c6,O-O,Nbd7,Bg5,e5,d5,c5,Qd2,Re8,a3,Qc7,Nb5,Qb8,b4,a6,Nc3,Nh5,Rfb1,f6,Bh4,g5,Bg3,Nxg3,fxg3,h6,bxc5,Nxc5,Qc2,Rf8,Na4,Nxa4,Qxa4,Qc7,Rb4,f5,Nd2,f4,Rab1,Rb8,Qb3,Qf7,Rb6,fxg3,Rf1,gxh2+,Kxh2,Qg6,Rxf8+,Bxf8,c5,g4,cxd6,Bxd6,Nc4,Qh5+,Kg1,Bc5+,Kf1,Bxb6,Nxb6,Qh1+,Kf2,Qh4+,Kf1,g3,d6+,Kg7,Bf3,Bg4,Qc3,Qh1+,Ke2,Bxf3+,Kxf3,Rf8+,Kxg3,Qh5,Qc7+,Rf7,d7,Qg5+,Kh3,h5', 'd8=Q,Qg4+,Kh2,Rxc7,Qxc7+', 'https://lichess.org/training/jwU6D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jWukM', 'Rapid', 'Esquilachess', 2094, 'olegop', 2056, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Ne4,Nxe4,dxe4,Bd2,Bf5,e3,e6,Ne2,Bd6,c5,Bc7,Nc3,b6,b4,a5,a3,O-O,Be2,Nd7,O-O,Qh4,g3,Qh6,f4,Nf6,Rf2,Qh3,cxb6,Bxb6,bxa5,Bxa5,Nb1,Ng4,Bxg4,Bxg4,Qc2,Bf3,Bxa5,Rxa5,Nd2,Rfa8,Nxf3,exf3,Rxf3,Rxa3,Rxa3,Rxa3,Rf1,h5,Qxc6,Rxe3,Qe8+,Kh7,Qxf7', 'Re2,Qxh5+,Qxh5', 'https://lichess.org/training/jWukM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwunQ', 'Bullet', 'aderusmana', 1655, 'Jacknife94', 1604, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,c3,d6,d4,Bb6,Bg5,O-O,Nbd2,Bg4,h3,Bh5,a3,h6,Bxf6,Qxf6,Rc1,a6,Be2,exd4,Nxd4,Bxe2,Nxe2,Rfe8,Ng3,Rad8,Qg4,d5,exd5,Rxd5,Nde4,Qe6,Rfe1,Qxg4', 'Nf6+,gxf6,Rxe8+,Kh7,hxg4', 'https://lichess.org/training/jwunQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JWUYK', 'Blitz', 'skenderi', 2071, 'Lalemafithotatiphi', 2030, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,Be7,f3,O-O,Be3,Re8,Bd3,Nbd7,Nge2,Ne5,O-O,Nxd3,Qxd3,a6,a3,b5,Rac1,Bd7,Rfe1,Nh5,f4,Bf6,Ng3,Nxg3,hxg3,c4,Qc2,Rc8,Rcd1,a5,e5,Be7,Bd4,b4,Ne4,Bf5,Qe2,dxe5,Bxe5,Bxe4,Qxe4,f6,Bd4,Bc5', 'Qxe8+,Qxe8,Rxe8+,Rxe8,Bxc5', 'https://lichess.org/training/JWUYK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JwVup', 'Rapid', 'aneta3', 2244, 'redjok', 2139, 'e4,c5,Nc3,Nc6,Bc4,e6,d3,g6,Nge2,Bg7,Bb3,d6,Be3,Nge7,h3,h5,Qd2,a6,Bg5,f6,Be3,Bd7,f4,b5,a3,Qa5,O-O,O-O-O,Qe1,f5,Bd2,Qc7,Ng3,Nd4,Ba2,h4,Nge2,Nxc2,Qf2,Nxa1,Rxa1,Nc6,e5,dxe5,Qxc5,Nd4,Qxc7+,Kxc7,fxe5,Bxe5,Re1,Bf6,Nf4,e5', 'Nfd5+,Kb7,Nxf6', 'https://lichess.org/training/JwVup');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JwW6i', 'Classical', 'bestsalut', 1822, 'stealth992', 1865, 'e4,d6,d4,Nf6,Nc3,g6,d5,c6,dxc6,Nxc6,Bb5,Bg7,Nf3,Qa5,Qe2,Nxe4,Bxc6+,bxc6,Qxe4,d5,Qa4', 'Bxc3+,bxc3,Qxa4', 'https://lichess.org/training/JwW6i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JWWBm', 'Rapid', 'sh_panda', 1666, 'JonWay', 1633, 'd4,c6,c4,d5,Nc3,Bf5,e3,e6,Nf3,Nd7,h3,Ngf6,Be2,Be7,b3,O-O,O-O,Re8,Bb2,Rc8,cxd5,cxd5,Rc1,a6,Bd3,Bxd3,Qxd3,b5,a3,Rc6,b4,Qc7,e4,dxe4,Nxe4,Rc8,Rxc6,Qxc6,Nxf6+,Bxf6,Rc1,Qb7,Rxc8+,Qxc8,Ne5,Be7,d5,Nxe5,Bxe5,Qc1+,Kh2,exd5,Qxd5,Qxa3', 'Qa8+,Bf8,Bd6', 'https://lichess.org/training/JWWBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jWwxQ', 'Blitz', 'mahirkamisli77', 1583, 'LennyTheBoyy', 1608, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,d3,Nf6,Ng5,Qe7,Nf3,Nc6,g3,O-O-O,Be3,d5,exd5,exd5,a4,e4,Nd4,Qb4+,c3,Qxb2,Nd2,Nxd4,Bxd4,c5,Rb1,Qa3,Rb3,Qxa4,O-O,cxd4,cxd4,Bb4,Qc2+,Kb8,Rc1,Bxd2', 'Qc7+,Ka8,Qxb7#', 'https://lichess.org/training/jWwxQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwX4o', 'Classical', 'navidoo', 1769, 'regiongaz', 1725, 'd4,b6,c4,Bb7,Nc3,e6,e4,Bb4,Bd2,Bxc3,Bxc3,Bxe4,Nf3,f6,Bd3,d5,O-O,Nd7,cxd5,exd5,Re1,Ne7,Bxe4,dxe4,Rxe4,O-O,Bb4,c5,dxc5,bxc5,Bc3,Ng6,Nh4,f5,Qd5+,Kh8,Nxg6+,hxg6,Re3,Nf6,Rh3+,Nh5,Qe5,Rf6,g4,fxg4,Rxh5+,gxh5,Qxh5+,Rh6,Qf7,Qf8,Qc4,g3,fxg3,Qf3,Rf1,Qe3+,Kh1,Re8,Qf7,Rg8,Rf3,Qg5,Kg2,Qc1,Rf2,Qb1,Rf1,Qe4+,Rf3,Qc2+,Rf2,Qa4,Bxg7+,Rxg7,Qf8+,Kh7,Qf5+,Rhg6,Rf4,Qc6+,Kf2,Qe8,Rh4+,Kg8,Qd5+,Re6,Re4,Rf7+,Rf4,Re2+,Kf1,Re1+,Kg2,Re2+,Kh3,Qc8+,Rg4+,Kf8,Qd6+,Ree7,Kg2,Qa8+,Kg1,Qc8', 'Qh6+,Ke8,Rg8+', 'https://lichess.org/training/jwX4o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JWxox', 'Rapid', 'houseesam', 1879, 'Leitz5038', 1938, 'e4,c5,d3,g6,Ne2,Bg7,Ng3,e6,Nd2,Nc6,Nf3,d6,Be2,Nge7,c3,O-O,h4,f5,h5,f4,Nf1,gxh5,Rxh5,Ng6,Qb3,Na5,Qc2,e5,Bd2,Bg4,Rh2,Bf6,O-O-O,Kg7,g3,Bg5,Nxg5,Qxg5,gxf4,Nxf4,Bxf4,Qxf4+,Kb1,Be6,Rg2+,Kh8,Ng3,Qf7,Rh1', 'Bxa2+,Ka1,Nb3+,Kxa2,Nd4+,Kb1,Nxc2', 'https://lichess.org/training/JWxox');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwYiO', 'Blitz', 'orlandovp33', 1939, 'David_chess03', 1901, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Bxf7+,Kxf7,Qd5+,Kf8,Qxc5+,Qe7,Qxc3,Qxe4+,Be3,Nf6,O-O,d5,Nbd2,Qg6,Bc5+,Kf7,Rfe1,Bg4,Re7+,Nxe7,Ne5+,Ke8,Nxg6,hxg6,Bxe7,Kxe7,Re1+,Kd7,Nb3,b6,Qe5,Rhe8,Qc3,Rxe1+,Qxe1,Re8,Qc1,c5,h3,Bf5,g4,Be4,Qf4,d4,Nd2,Bd5,b3,Re1+,Kh2,Rh1+,Kg3,Rg1+,Kh4,Nh7,Qb8', 'g5+,Kh5,Bf7#', 'https://lichess.org/training/jwYiO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jwylk', 'Rapid', 'joo_mourad20', 1875, 'kyle11878', 1787, 'e4,e5,Bc4,Nf6,Qf3,Nc6,Ne2,Bc5,Nbc3,O-O,d3,d6,h4,Bg4,Qg3,Qd7,f3,Nh5', 'Qxg4,Qxg4,fxg4', 'https://lichess.org/training/Jwylk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jwyqj', 'Rapid', 'lecanyckin', 2036, 'schwachspiel', 2028, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,f6,exf6,Qxf6,Qd2,Nc6,e3,Bb4,Nc3,O-O,Nf3,d6,Be2,Be6,O-O,Rad8,Bg5,Qg6,Bxd8,Rxd8,a3,Bxc3,Qxc3,Nce5,Nxe5,Nxe5,f4,Bh3,Rf2,Nf7,e4,Bd7,f5,Qg5,Rf3,Ne5,Rg3,Qh4,Qe3,h6,Rf1,Rf8,Rf4,Qf6,Rh3,g5,Rf1,c5,Rd1,Bc6,Bd3,Ng4,Qd2,Qd4+,Kf1,Bxe4,Bxe4,Qxe4,Qd5+,Qxd5,Rxd5,b6,Kg1,Re8,Rf3', 'Re1+,Rf1,Rxf1+,Kxf1,Ne3+,Kf2,Nxd5', 'https://lichess.org/training/Jwyqj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JWZt6', 'Rapid', 'ahmadibil1', 1646, 'ajfirecracker', 1728, 'c4,e5,Nc3,Nf6,g3,d5,Bg2,d4,Nd5,c6,Nxf6+,gxf6,Nf3,Bh6,d3,Bxc1,Qxc1,Bg4,O-O,Nd7,b4,Qe7,c5,h5,h4,f5,e3,dxe3,fxe3,e4,dxe4,fxe4,Nd2,f5,Qc4,Ne5,Qc3,O-O-O,a4,Rd3,Qc1,Rxe3,Nxe4,Rxe4,Bxe4,fxe4,Qc3,Nf3+,Rxf3,Rd8,Re3,Bf3,a5,Qe6,Kh2,Rg8,Qe1,Qc4,Kg1,Qc2,Rxf3,exf3,Qf2,Qe4,Re1,Qxh4', 'Re8+,Rxe8,gxh4', 'https://lichess.org/training/JWZt6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jwzzR', 'Rapid', 'xxjrrxx', 1826, 'Aleksandr2384', 1823, 'Nf3,d5,c4,dxc4,Qa4+,Nc6,Qxc4,g6,b3,Bg7,Nc3,e5,Bb2,Nge7,e3,O-O,Be2,h6,d4,e4,Nd2,Be6,Qb5,f5,Ba3,Bd7,Qc4+,Kh8,d5,Ne5,Qc5,b6,Qxe7,c5,Qxd8,Rfxd8,Nc4', 'Nxc4,Bxc4,Bxc3+', 'https://lichess.org/training/jwzzR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jx0nb', 'Blitz', 'leon_dupuis', 1520, 'AlissonCosta', 1541, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Bg5,Be7,Qf3,O-O,Nc3,a5,O-O-O,Ba6,Bxa6,Rxa6,h4,Rb6,g4,Qb8,b3,a4,Nxa4,Rb4,Bxf6,Bxf6,Rxd7,Rd4,Nc5,Qc8,Rxd4,exd4,g5,Be5,Qf5,Bd6,Nd7,Ba3+,Kb1,Re8,f3,Re6,Nb6,Qc7,Nc4,Bf8,h5,c5,f4,Ra6,e5,Qa7,a4,Qb7,Rg1,Rxa4,Kc1,Ra1+,Kd2,Rxg1,Nd6,Qb4+,Ke2,Qe1+,Kd3,Qe3+,Kc4,Qc3+,Kd5,Qf3+,Kxc5,Bxd6+,exd6,Qa8,d7,Qd8,g6,Ra1', 'Qxf7+,Kh8,Qe8+,Qxe8,dxe8=Q#', 'https://lichess.org/training/Jx0nb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JX2x8', 'Classical', 'Czeslaw62', 1850, 'francocarmar', 1889, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Nge2,c5,d5,e6,Ng3,exd5,cxd5,Re8,Be2,Nbd7,O-O,Qb6,Qc2,h5,Bg5,Nh7,Bf4,Ne5,Rab1,Qd8,b4,b6,bxc5,bxc5,a4,Qh4,Bb5,Re7,Bxe5,Bxe5,Bc6,Ng5,Bxa8,Bxh3,Rb8+,Kh7,Nce2,Bxg2,Kxg2', 'Qh3+,Kg1,Nf3#', 'https://lichess.org/training/JX2x8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JX4jA', 'Rapid', 'GokhanG', 2024, 'OlegJdanov', 2041, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,e3,Bd6,cxd5,exd5,Bd3,O-O,h3,Nbd7,O-O,Re8,a3,Nf8,b4,Qe7,b5,Bd7,Bb2,Ne4,Bxe4,dxe4,Nd2,f5,a4,Qg5,Nc4,Bc7,d5,f4,dxc6,Bxh3', 'Qd5+,Ne6,Qxg5', 'https://lichess.org/training/JX4jA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jx6BZ', 'Blitz', 'ckassios4', 2221, 'IM EricRosen', 2457, 'e4,e5,Nf3,Nf6,d4,exd4,e5,Ne4,Qxd4,d5,exd6,Nxd6,Nc3,Nc6,Qd1,Be7,Be3,Bg4,Be2,Nf5,Bf4,O-O,O-O,Bd6,Bxd6,Nxd6,h3,Bh5,Re1,Bg6,Bd3,Qf6,Qd2,Rad8,Nd5,Qxb2,Bxg6,hxg6,Reb1,Qa3,Rb3,Qa5,Ne7+,Kh8,Nxc6,Qxd2,Nxd2,bxc6,Rc3,Nb5,Rd3,Rxd3,cxd3,Rd8,Nf3,f6,Rc1,Rd6,Kf1,Kg8,Ke2,Kf7,a4,Re6+,Kd2,Nd6,Nd4,Re7,Nxc6,Rd7,Nxa7,Ne4+,Ke3,Nd6,Nb5,Nf5+,Kd2,Rd5,Rxc7+,Kg8,Rc8+,Kh7,Rc1,Ne7,Nc3,Ra5,Re1,Nc6,Rb1,Ra6,Rb5,g5,g4,Nd4,Rd5,Nf3+,Ke3,Ne5,d4,Ng6,Rb5,Nf4,f3,Re6+,Kf2,Rc6,Ne4,Rc2+,Ke3', 'Re2#', 'https://lichess.org/training/Jx6BZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jx7A8', 'Blitz', 'Marko11080', 1715, 'elihein', 1722, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,f4,Qc7,Bd3,e6,O-O,Be7,Qd2,O-O,f5,Ne5,fxe6,fxe6,Bxf6,Bxf6,b3,b5,a4,b4,Nce2,a5,Bc4,Nxc4,bxc4,Qxc4,Nb5,Qc5+,Kh1,Be5,Rxf8+,Kxf8,Rf1+,Kg8,Qg5,Bb7,Qe7,Bxe4', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/Jx7A8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JX7GH', 'Rapid', 'nesa10', 2056, 'robert_jordan', 1995, 'e4,c5,Nf3,Nc6,Nc3,d6,Bb5,g6,d3,Bg7,Bf4,Nf6,Qd2,Bg4,Bxc6+,bxc6,Bh6,O-O,h3,Bxf3,gxf3,Qb6,Rb1,a5,h4,a4,a3,Nh5,Ne2,f5,Bxg7,Kxg7,Ng3,Nxg3,fxg3,fxe4,fxe4,Rf6,Rf1,Raf8,Rxf6,Rxf6,c4,Qb3,Ke2,d5,Qc3,Qb8,Rg1,Qc8,Qe5,Qg4+,Kd2,Qf3,Re1,dxc4,Qxe7+,Kh6,dxc4,Qf2+,Re2,Qd4+,Ke1,Rf3,Qg5+,Kg7,Qe7+,Rf7,Qg5,Qxc4,Qe5+,Kh6,Qg5+,Kg7,Qe5+,Kg8,Qe8+', 'Rf8,Qd7,Qc1+,Qd1,Rf1+,Kxf1,Qxd1+', 'https://lichess.org/training/JX7GH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jx7Zc', 'Rapid', 'vatsalsejpal', 2175, 'mAkinAcApAblAncA', 2148, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Bg4,Nf3,e6,Bf4,Bd6,Bxd6,Qxd6,Nbd2,Nbd7,Qb3,Qb6,O-O,O-O,h3,Bh5,Rfe1,Rfc8,Ne5,Nxe5,Rxe5,Bg6,Bxg6,hxg6,Rae1,Qxb3,Nxb3,b6,f3,Nh5,Kf2,Nf4,Nc1,a5,Kg3,Nh5+,Kf2,Nf4,g3,Nh5,Nd3,Rc7,g4,Nf6,h4,Rac8,R5e2,Kf8,Ne5,Nd7,Kg3,Nxe5,Rxe5,b5,R1e2,b4,cxb4,axb4,R5e3,Rc2,Kf2,Ke7,Rxc2,Rxc2+,Re2,Rc4,Ke3,Kd6,f4,Rc1,Kf3,Ra1,b3,Rc1,Rd2,f5,gxf5,gxf5,Rg2,Rc3+,Kf2,Rc2+,Kg1,Rxg2+,Kxg2,Ke7,h5,Kf7,Kg3,g6,h6,Kg8,Kh4,Kh8,Kg5,Kh7,Kf6,Kxh6,Kxe6,g5', 'Kxf5,gxf4,Kxf4', 'https://lichess.org/training/jx7Zc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXbaa', 'Classical', 'isei03', 2029, 'Pferdebohne', 1546, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,d6,Bb5,Bd7,O-O,Nf6,Re1,Be7,Be3,O-O,Nf3,Qc7,a3,a6,Bf1,Rac8,Rc1,Qb8,Qd2,Ne5,Nxe5,dxe5,Bg5,Rfe8', 'Bxf6,Bxf6,Qxd7,Red8,Qa4', 'https://lichess.org/training/jXbaa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JxBFD', 'Rapid', 'MouthPocketDevourer', 2302, 'ilya2002', 2031, 'f4,c5,Nf3,Nc6,e4,e6,Bc4,Nge7,O-O,g6,c3,Bg7,d4,cxd4,cxd4,d5,exd5,exd5,Bb3,O-O,Kh1,Nf5,Nc3,Be6,Ne2,Qb6,Ng5,Ncxd4,Nxd4,Nxd4,Be3,Qb4,Bd2,Qe7,Re1,Qd7,Bc3,Nxb3,Qxb3,Bxc3,Qxc3,h6,Nf3,Rac8,Qd2,Kh7,Nd4,Rfe8,Re5,Bf5,Rae1,Be4,Qf2,Qg4,Kg1,Qd7,a3,a6,Qh4,Rxe5,fxe5,Re8,Qf4,Qc7,Rf1,Re7,h4,Qb6,Qf2,Bd3,Re1,Be4,h5,Kg8,hxg6,Qxg6,Nf3,Rc7,Nd4,Kh7,Rf1,Kg8,Ne2,Rc2,Rc1,Rxc1+,Nxc1,Qg5,Ne2,Qxe5,Nd4,Qg5,Nf3,Qc1+,Kh2,Bxf3,gxf3,Qg5,Qd4,f6,Qb4,Qe5+,Kg2,b5,a4,Qe2+,Kg3,Kg7,axb5,axb5,Qg4+,Kf7,Qd7+,Kg6,Qg4+,Kf7,Qb4,Qe5+,Kf2,d4,Qb3+,Kg6', 'Qg8+,Kf5,Qg4#', 'https://lichess.org/training/JxBFD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jxbfw', 'Blitz', 'IM GreenNight', 2656, 'GM maciek_92', 2624, 'e4,c5,Nc3,Nc6,Nf3,e6,d4,cxd4,Nxd4,a6,Qd3,Qc7,Nxc6,bxc6,Qg3,Qb6,Bd3,h5,h4,d5,exd5,cxd5,O-O,Nf6,Bf4,Bb7,Rfe1,Ng4,Be2,Be7,Bg5,Bd6,Bf4,Nxf2,Kh2,Bxf4,Qxf4,Ne4,Nxe4,dxe4,Rf1,f6,Rad1,Rd8,Rxd8+,Kxd8', 'Qb8+,Ke7,Qxh8', 'https://lichess.org/training/jxbfw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXd16', 'Classical', 'pion67917011', 1733, 'CALBH', 1654, 'e4,c5,c3,g6,d3,Bg7,Nf3,Nf6,Be2,O-O,O-O,Nc6,Nbd2,d5,e5,Ng4,d4,cxd4,cxd4,f6,h3,Nh6,Nb3,fxe5,dxe5,Nxe5,Nxe5,Bxe5,Bxh6,Rf7,Rb1,e6,f4,Bd6,Bg5,Qb6+,Kh1,Qb4,a3,Qb6,Nd4,Kg7,Qe1,Qxd4,Qh4,Kg8,Bh6,Be7,Qg3,e5,fxe5,Bh4,Rxf7,Kxf7,Rf1+,Bf5,Qb3,b6,Rc1,Qxe5,Bf1,Rc8,Rd1,Be6,Qf3+,Qf5,Qe2,g5,Qa6,Kg6', 'Bd3,Kxh6,Bxf5', 'https://lichess.org/training/jXd16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JxDv7', 'Blitz', 'Balakovec', 1783, 'EduardoBoosted', 1816, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d3,e6,Nbd2,d5,a4,b6,c3,Bb7,h3,Nbd7,Nh2,Ne8,e4,dxe4,dxe4,Nc5,Qe2,Ba6,c4,Nd6,b3,Bxa1,e5,Bb7,exd6,Bxg2,dxc7,Qxc7,Kxg2,Bg7,Nhf3,Rfd8,Ba3,Qc6,Kg1,Bf8,Bb2,Bh6,Bf6,Rd7,Ne5,Rxd2,Qxd2,Bxd2,Nxc6,Nxb3,Rd1,Bh6,Ne7+,Kf8,Nc6,Bg7,Be7+,Kg8,Bg5,h6,Be7,Kh7,Rd7,a6,Nb4,Nd4,Kg2,b5,cxb5,axb5,axb5,Nxb5,Rb7,Nd4,Nd3,Nf5,Bc5,f6,g4,Nh4+,Kg3,g5,f4,Kg6,f5+,exf5,Nb4,f4+,Kf2,h5,Nd5,hxg4,hxg4,Ra2+,Kf1,f3,Ne7+,Kh6,Nf5+,Nxf5,gxf5,g4,Bd6,Bh8', 'Bf4+,Kh5,Rh7#', 'https://lichess.org/training/JxDv7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jxEOO', 'Rapid', 'venkateshwarlu', 2045, 'baneatanasijevic22', 2056, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Nc3,Nf6,Nf3,Bg4,Be2,e6,O-O,Bd6,h3,Bxf3,Bxf3,h6,Re1,O-O,Ne4,Nxe4,Rxe4,Nd7,c3,Nf6,Re1,Qc7,Qb3,Rfe8,Be3,Nd5,c4,Nxe3,fxe3,Bg3,Rf1,Rab8,c5,e5,Qc4,exd4,exd4,Rbd8,Rad1,Bh4,Bh5,Re7,b4,Rd5,Bf3,Rg5,d5,cxd5,Bxd5,Bg3,Bf3,Be5,a4,Bf6,c6,b6,b5,Re3,Rd7,Qg3,Qxf7+,Kh7,Qxf6,Re2,Rxg7+,Rxg7,Qf5+,Rg6,Qf7+,Rg7,Be4+', 'Rxe4,Qf5+,Qg6', 'https://lichess.org/training/jxEOO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JxfPP', 'Rapid', 'TactfulDinosaur', 1607, 'JulioElias', 1605, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Bc4,Nf6,Nf3,Bg4,d3,e6,h3,Bh5,g4,Bg6,Rg1,h6,Be3,Nbd7,Qd2,O-O-O,Bf4,Qb4,O-O-O,Bd6,Bxd6,Qxd6,Nb5,Qe7,Nxa7+,Kb8,Nb5,Nc5,Qb4,c6,Nc3,Nd5,Bxd5', 'Nxd3+,Rxd3,Qxb4', 'https://lichess.org/training/JxfPP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXhcG', 'Rapid', 'God-bless-you', 1732, 'javiermasc', 1833, 'Nf3,e6,c4,d5,cxd5,exd5,a4,Nc6,b4,Bf5,b5,Nb4,Ba3,Nc2+,Qxc2,Bxc2,Bxf8,Kxf8,Na3,Bg6,e3,Qf6,Ra2,Ne7,d4,Nf5,Be2,h5,O-O,h4,Ne5,Ke7,h3,Rac8,Bg4,Bh5,a5,Bxg4,Nxg4,Qd6,a6,bxa6,Nc2,c5,Rxa6,Qb8,Ne5,Qxb5,Rxa7+,Kf6,Rxf7+,Ke6,Ra1,Ra8,Rf1,Ra2,Ne1,Rha8,N1f3,Ra1,Rxa1,Rxa1+,Kh2,Qf1', 'Ng5+,Kd6,Rd7#', 'https://lichess.org/training/jXhcG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXi4x', 'Blitz', 'Ochiai', 1764, 'Niloceel', 1869, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,h6,Bh4,a6,Na3,Be6,Bc4,b5,Bxe6,fxe6,Nab1,Be7,Nd2,O-O,f3,b4,Ne2,d5,exd5,exd5,O-O,Qb6+,Bf2,Bc5,Nb3,Bxf2+,Rxf2,a5,a4,Rad8,Qe1,e4,Kh1,exf3,Rxf3,Ne5,Rf2,Nfg4,Rxf8+,Rxf8,Ned4,Nf2+,Kg1,Nc6,Qe6+,Kh8,Qxc6,Qd8,Rf1', 'Nh3+,gxh3,Qg5+,Kh1,Rxf1#', 'https://lichess.org/training/jXi4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXi7u', 'Rapid', 'AitMeddourM', 1634, 'Smike', 1644, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Bb5+,Bd7,Bxd7+,Nxd7,Nb5,Qa5+,N1c3,Rc8,O-O,Rc6,Qd5,Ngf6', 'Nxd6+,Bxd6,Qxa5', 'https://lichess.org/training/jXi7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JxIa5', 'Blitz', 'cutrimchess', 1684, 'nikkollos', 1607, 'e4,e5,Nf3,Nf6,d3,Nc6,c4,Bc5,Nc3,d6,Bg5,Bb4,Qb3,Bg4,a3,Bxc3+,bxc3,Rb8,Be2,Bxf3,gxf3,O-O,Rg1,g6,h4,Kg7,h5,Qd7,h6+,Kg8,Bxf6,Qh3,Bg7,Rfe8,Kd2,Ne7,Rh1,Qg2,Ke3', 'Qg5+,f4,Qxf4#', 'https://lichess.org/training/JxIa5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JXies', 'Rapid', 'Roister0', 1741, 'Egregor', 1697, 'd4,e6,c4,c5,d5,exd5,cxd5,d6,e4,Be7,Nc3,Nf6,Nf3,Bg4,h3,Bh5,Be2,O-O,e5,dxe5,Nxe5,Bxe2,Qxe2,Nxd5,Nxd5,Qxd5,O-O,Bd6,Nc4,Nc6,Rd1,Nd4,Qf1,Rae8,Nxd6,Qxd6,Be3,Qf6,Qc4,b6,Bxd4,cxd4,Qxd4', 'Re1+,Rxe1,Qxd4', 'https://lichess.org/training/JXies');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JXKPa', 'Bullet', 'Queen36', 1894, 'TusharSaraswat', 1784, 'd4,Nf6,Bf4,e6,Nf3,Be7,e3,O-O,Bc4,b6,c3,Bb7,Nbd2,c5,O-O,d5,Bb3,Nbd7,Rc1,Rc8,h3,h6,Ne5,Nxe5,Bxe5,c4,Bc2,b5,a3,a5,Re1,b4,axb4,axb4,e4,b3,Bb1,Nd7,exd5,exd5,Bf4,Nb6,Qg4,Rc6,Be5,Bf6,Nf3,Bc8,Qg3,Na4,Re2,Re8,Bxf6,Rxf6,Rxe8+,Qxe8,Re1,Re6,Rxe6,Qxe6,Qc7,Nxb2', 'Qd8+,Qe8,Qxe8#', 'https://lichess.org/training/JXKPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JXkSp', 'Rapid', 'phiLord', 2032, 'kiko1996', 2164, 'e4,e5,f4,Qh4+,g3,Qf6,fxe5,Qxe5,Nc3,Bb4,Nf3,Qe6,Ng5,Qg6,d4,h6,Nf3,Bxc3+,bxc3,Qxe4+,Be2,Nf6,O-O,O-O,Bd3,Qe7,Ng5,hxg5,Rxf6,Qxf6,Rb1,d6,Rb5,c5,dxc5,a6,Rb4,dxc5,Bxg5,Qxg5,Rh4,g6,Bc4,b5,Be2,Qe3+,Kf1,Nc6,Qd6,Ne7,Qf6,Qc1+,Kf2,Qe3+,Kxe3', 'Nd5+,Kf2,Nxf6', 'https://lichess.org/training/JXkSp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JxkzC', 'Rapid', 'Aequus', 2148, 'omar24', 1719, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,c6,e3,h6,Bh4,Be7,Bd3,O-O,Qc2,c5,Bxf6,Bxf6,dxc5,d4,exd4,Nc6,a3,Re8+,Nge2,Nxd4,Qd1,Nxe2,Bxe2,Bf5,O-O,Bxc3,bxc3,Rc8,Bf3,Qa5,Bxb7,Rxc5,Re1,Re6,Rxe6,Bxe6,h3,Bf5,Qe2,Qxc3,Re1,Rb5,Qe8+,Kh7,Re7,Rb1+,Kh2,Qd4,Qxf7', 'Qf4+,g3,Qxf2+,Bg2,Qg1#', 'https://lichess.org/training/JxkzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JxlFN', 'Rapid', 'JuanPlayer', 1605, 'Kleronomas', 1655, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,Nf3,Bb4,Bd2,Nge7,Qb3,O-O,O-O-O,a5,h4,d6,g4,Bd7,Rdg1,Ne5,Nxe5,dxe5,g5,Ng6,h5,Nf4,Bxf4,exf4,g6,fxg6,hxg6,f3,Rxh7,Qf6,Qd1,Qf4+,Kb1,Bxc3,bxc3,Qxe4+,Bd3,Qc6,Rh8+,Kxh8', 'Rh1+,Kg8,Rh8+,Kxh8,Qh1+,Kg8,Qh7#', 'https://lichess.org/training/JxlFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXLJz', 'Blitz', 'spielen_lernen', 2321, 'EnesYusufKamis34', 2391, 'd4,Nf6,Nd2,e6,e4,d5,e5,Nfd7,c3,c5,Bd3,Nc6,Ne2,cxd4,cxd4,Qb6,Nf3,Be7,O-O,O-O,Nc3,f6,exf6,Bxf6,Be3,Kh8,Qb1,Nxd4,Nxd4,Bxd4,Bxd4,Qxd4,Bxh7,Nf6,Bc2,Qh4,Qe1,Ng4,h3,Nh6,Qe5,Nf7,Qe2,d4,Ne4,e5,Rae1,Bf5,g4,Bxe4,Qxe4,Qxh3,f3,Ng5,Qxe5,Rxf3', 'Qe8+,Rxe8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/jXLJz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jxMaY', 'Rapid', 'andreikap728', 1894, 'sandgarii', 1966, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Nf6,d3,Bg4,h3,Bd7,b4,a6,O-O,b5,Bb3,Be7,a4,O-O,axb5,axb5,Rxa8,Qxa8,Nbd2,Be6,Bxe6,fxe6,Qb3,d5,exd5,exd5,Re1,Kh8,Nxe5,Nxe5,Rxe5,Bd6,Re1,c5,bxc5,Bxc5,d4,Bd6,Qxb5,Qa2,Nf3,Ne4,Be3,Bf4,Rf1,Bxe3,fxe3,Ng3,Re1,h6,Kh2', 'Rxf3,Qb8+,Kh7,Qb1+,Qxb1', 'https://lichess.org/training/jxMaY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXMDT', 'Blitz', 'FM Computercheat', 2490, 'Robertjordan2003', 2487, 'd4,d5,Nc3,Nf6,Bg5,Ne4,Nxe4,dxe4,e3,c6,c3,Qb6,Qb3,Be6,Qxb6,axb6,a3,b5,Ne2,f5,h4,Nd7,h5,Bc4,Nf4,Bxf1,Rxf1,Kf7,f3,exf3,gxf3,e5,Nd3,Ke6,Kd2,Bd6,Rae1,Rae8,e4,fxe4,fxe4,Ref8,Ke3,Rxf1,Rxf1,Rf8,Rxf8,Bxf8,Bh4,Bd6,Ne1,Nb6,Kd3,Nc4,Kc2,Ne3+,Kd3,Ng4,Nf3,Nf6,Bxf6,Kxf6,d5,g6,hxg6,hxg6,c4,g5,Nh2,Kg6,cxb5,cxd5,exd5,Kf5,a4', 'e4+,Ke2,Bxh2', 'https://lichess.org/training/jXMDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JXNFs', 'Rapid', 'GrosTanguy', 1654, 'parsa-ahmadpoor', 1606, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,h3,O-O,Bc4,Re8,d3,Qd4,Qf3,Be6,Bxe6,Rxe6,Be3,Qb4,a3,Qxb2,Nd1,Qxa1,Bxc5,b6,Bb4,c5,Bc3,Qxa3,O-O,h6', 'e5,Rae8,exf6', 'https://lichess.org/training/JXNFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXOAH', 'Classical', 'rocchi', 2151, 'Aawlbt', 1923, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,d3,Bd6,Nbd2,Nf6,h3,Bh5,Qe1,b5,Qe3,h6,d4,exd4,Nxd4,Bc5,N2b3,Bb6,c3,c5,Qf4,cxd4,Qe5+,Qe7,Qxe7+,Kxe7,Nxd4,Rhe8,f3,Kf8,a4,Rad8,axb5,axb5,Be3,Bxd4,Bxd4,c6,Ra6,Re6,Rfa1,Kg8,Ra8,Rxa8,Rxa8+,Re8,Ra6,Rc8,Bxf6,gxf6,g4,Bg6,Kf2,h5,b3,hxg4,hxg4,Kg7,Ke3,c5,Rb6,c4,Rxb5,cxb3,Rxb3,Kh6,Kd4,Kg5,c4,Kf4,c5,Rd8+,Kc4,Ke5,c6,Kd6', 'Rd3+,Kc7,Rxd8', 'https://lichess.org/training/jXOAH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXOGk', 'Blitz', 'alexandraaaa', 2284, 'yass69', 1726, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Bg4,h3,Bh5,Be2,Bxf3,gxf3,e6,Bd3,Bb4,Bd2,Bxc3,bxc3,Qd5,Rb1,Qd7,Bf4,Nf6,Bg3,Nd5,Rb3,Na6,Qd2,Nb6,Rg1,O-O-O,Qe2,g6,Rxb6,axb6,Bxa6,bxa6,Qxa6+,Qb7,Qe2,Kd7,Qe5,Qb8,Qf6,Qa8', 'Qxf7+,Kc8,Qc7#', 'https://lichess.org/training/jXOGk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jxoTP', 'Rapid', 'DUCOBU', 1998, 'JonnyDea', 1786, 'f4,b6,d4,Bb7,e3,Nf6,Nf3,e6,Bd3,c5,c3,d5,O-O,c4,Bc2,Bd6,Nbd2,O-O,Ne5,Nbd7,Ndf3,Ne4,Nd2,f6,Nxe4,dxe4,Nxd7,Qxd7,Bd2,e5,fxe5,fxe5,Rxf8+,Rxf8,Qe2,exd4,cxd4,b5,a3,Qc7,h3,Bg3,Rf1,Rxf1+,Qxf1,Qf7,Qe2,Qf5,Bb4,Bd5,Bd1,h5,Qf1', 'Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/jxoTP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jxpSr', 'Rapid', 'NickeyPMQ', 1692, 'urbanski', 1732, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,e6,Bg5,Bd6,O-O-O,h6,Bf4,Bxf4+,Qxf4,O-O,Nf3,Nc6,Bb5,Nb4,Ne4,Nxe4,Qxe4,Nd5,Bc4,Nf6,Qe5,Ng4,Qf4,Nf2,g3,Nxh1,Rxh1,a6,h4,b5,Bd3,Qe7', 'Qe4,f5,Qxa8', 'https://lichess.org/training/jxpSr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JxqbX', 'Classical', 'BigKahuna', 1743, 'MagicAce1988', 1623, 'e4,e5,Nf3,Nf6,d3,Nc6,b3,d5,exd5,Qxd5,Bb2,Bg4,Nbd2,O-O-O,h3,Bxf3,Nxf3,Bc5,c4,Qd6,Ng5,Rd7,Be2,h6,Ne4,Nxe4,dxe4,Qg6,O-O,Rxd1,Raxd1,Nd4,Bg4+,Kb8,Kh1,h5,Bf5,Nxf5,exf5,Qxf5,Rd5,Bd6,c5,Qe6,Rfd1,Bf8,Rd8+,Qc8,Rxc8+,Kxc8,Bxe5,Bxc5,Bxg7,Rg8,Bd4', 'Rd8,Bxc5,Rxd1+', 'https://lichess.org/training/JxqbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JXqO2', 'Blitz', 'cristal', 1742, 'Miuri', 1807, 'd4,Nf6,c4,d5,Nc3,e6,Nf3,Be7,Bg5,O-O,e3,c5,cxd5,exd5,dxc5,Qa5,Bd3,Qxc5,O-O,Nc6,Rc1,Qa5,Bxf6,Bxf6,Nxd5,Qxd5,Bxh7+,Kxh7,Qxd5,Be6,Qh5+,Kg8,Ng5,Bf5,Nf3,Bg6,Qb5,Rab8,Nd4,Nxd4,exd4,Bxd4,Rfd1,Bf6,h3,Rfe8,b3,Re5,Qd7,Bf5,Qc7,Rbe8,g4,Be4,Rd7,Bf3,Qc2', 'Re1+,Rxe1,Rxe1+,Kh2,Be5#', 'https://lichess.org/training/JXqO2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jxQPY', 'Blitz', 'Bulletfordays', 1753, 'cenkin1122', 1661, 'f4,d5,Nf3,Nf6,b3,Nc6,Bb2,e6,e3,Bd6,Bb5,Bd7,Ne5,O-O,Nxd7,Nxd7,O-O,a6,Bd3,Nf6,Qf3,Re8,Qh3,h6,Be2,Ne4,d3,Nf6,Nd2,Be7,Rad1,Nh7,e4,dxe4,dxe4,Qc8,Qg4,e5,f5,Bf6,Nf3,Nd4,Nxd4,exd4,Bxd4,b6,Bc4,c5,Bxf6,Nxf6,Qf3,b5,Bd5,Nxd5,exd5,c4,f6,g6,Qf4,Kh7,Rf3,Qc5+,Kh1,cxb3,Rh3,h5,Qg5,bxc2', 'Rxh5+,Kg8,Rh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/jxQPY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JXRLg', 'Rapid', 'kauedantas', 1704, 'Katalonac', 1631, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Bd6,O-O,Nf6,Bb5+,Bd7', 'Re1,O-O,Rxe6', 'https://lichess.org/training/JXRLg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JXrO3', 'Blitz', 'FM realandante', 2234, 'Kevilekho', 2119, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,f3,O-O,Qd2,d5,Nxc6,bxc6,Rd1,Be6,e5,Nd7,f4,f6,exf6,Nxf6,Be2,Ng4,Bd4,Bxd4,Qxd4,Qb6,h3,Qxd4,Rxd4,Nh6,g4,Nf7,Bf3,Nd6,b3,a6,Kd2,Nb5,Rd3,Rxf4,Re1,Kf7,Na4,Re8,Nc5,Bc8,c3,e5,Bg2,e4,Rg3,Nc7,Ke3,g5,Rf1,Rxf1,Bxf1,Ne6,Nxa6,Bxa6,Bxa6,Ra8,Bb7,Rxa2,Bxc6,Nf4,c4,Rb2,Bxd5+,Nxd5+,cxd5', 'Rxb3+,Kf2,Rxg3', 'https://lichess.org/training/JXrO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jxsww', 'Rapid', 'parthi810', 1617, 'pall401', 1630, 'd4,d5,c4,e6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nf6,cxd5,Qxd5,f3,a5,Qc2,b5,e4,Qd8,Bxb5+,Bd7,Bxd7+,Qxd7,O-O-O,O-O,e5,Nd5,Ne2,Ne3,Qe4,Nxd1,Rxd1,Ra7,g4,Qc6,Qe3,Nd7,d5,Qc5', 'Qxc5,Nxc5,Bd4,Nb3+,axb3', 'https://lichess.org/training/Jxsww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JXSZ3', 'Classical', 'Taihen', 1786, 'toygarr', 1750, 'e4,e5,Bc4,Bc5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,O-O,Bg5,Re8,Qd3,h6,Bh4,d5,Nxd5,g5,Nxf6+,Qxf6,Bxg5,hxg5,Nf3,Qxb2,O-O,Qg7,Rfe1,Bb4,Red1,Bg4,a3,Bxf3,Qxf3,Bd6,Rab1,Nc6,Rd5,Nd4,Qe3,Nxc2,Qd2,Qh6,Rb3,Nxa3', 'Rxg5+,Kf8,Rg8+,Kxg8,Qxh6', 'https://lichess.org/training/JXSZ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jxTby', 'Blitz', 'FAES', 1801, 'mavelyn3119', 1635, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bc4,Bb4+,Bd2,Bxd2+,Nxd2,Nc6,Nxc6,dxc6,Nf3,Qc7,O-O,Nf6,Qd2,O-O,Rad1,Nxe4,Qe3,Nf6,c3,Bd7,Bb3,Rad8,Bc2,Bc8,Ng5,h6,Ne4,Nd5,Qd3,Nf4', 'Nf6+,gxf6,Qh7#', 'https://lichess.org/training/jxTby');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXtix', 'Rapid', 'Biph', 1744, 'thomarr', 1648, 'Nf3,Nf6,d4,d5,c4,g6,Nc3,Bg7,cxd5,Nxd5,e4,Nxc3,bxc3,O-O,Be2,c5,e5,cxd4,cxd4,Nc6,O-O,Bg4,Bb2,Qb6,Rb1,Rad8,h3,Bxf3,Bxf3,Nxd4,Bxd4,Rxd4,Rxb6,Rxd1,Rxb7,Rxf1+,Kxf1,Bxe5,Rxa7,Bd6,a4,Kg7,a5,Rb8,a6,Rb1+,Ke2,Ra1,Ra8,Bc5,Bd5,e6,Bb3,Ra3,Bc4,h6,f3,h5,Rc8,Bd4,Rc7,Kf6,Rd7,Bc5,Rc7,Bd4,g4,hxg4,hxg4,Kg7,Bxe6', 'Re3+,Kf1,Rxe6', 'https://lichess.org/training/jXtix');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JXtKS', 'Rapid', 'Umid_1990', 1628, 'pawdaw', 1682, 'e4,e5,Qh5,Nc6,Nf3,Nf6,Qg5,h6,Qe3,d5,d3,Bg4,Be2,Bxf3,Bxf3,Nd4,Bd1,Bc5,Qg3,Qe7,c3,Ne6,b4,Bd6,O-O,g5,Na3,dxe4,Nb5,exd3,Qxd3,a6,Nxd6+,Qxd6,Qxd6,cxd6,f3,Nd5,Bd2,f5,a4,Rc8,Ra3,O-O,Bb3,Ndc7,b5,Kg7', 'b6,Nc5,bxc7,Nxb3,Rxb3', 'https://lichess.org/training/JXtKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jxuJk', 'Rapid', 'hamid5900', 2063, 'raskolnikov001', 2004, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qa5,Nxe4,Be6,Neg5,O-O-O,Nxe6,fxe6,Rxe6,Bd6,Bg5,Rde8,Qe2,Kd7,Rxe8,Rxe8,Qd3,Ne5,Qf5+,Kc6,Nxd4+,Kb6,Be3,c5,Ne6,Nc4,Rd1,Be7,Bf4,Qxa2,Bd6,Bxd6,Rxd6+,Nxd6', 'Qxc5+,Ka6,Nc7#', 'https://lichess.org/training/jxuJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXUkZ', 'Rapid', 'vikrant33', 1825, 'imanmasoom', 1787, 'e3,d5,Nc3,c5,Nf3,Bg4,Qe2,Nf6,Qb5+,Qd7,Qxc5,Bxf3,gxf3,e6,Qd4,Nc6,Qf4,Bd6,Qa4,Nb4,Bb5,Nc6,Rg1,O-O,Bxc6,bxc6,b3,h6,Bb2,Nh7,Nxd5,Ng5,O-O-O,Bxh2,Rg2,Qxd5,Rxh2,Qxf3,Qd4,f6,Qd7,Rfd8,Qe7,a5,Rdh1,Qd5,f4,Nf7,Bxf6,gxf6,Qxf6,Qf5,Rg1+,Kf8,Qg7+,Ke7,Rxh6', 'Rg8,Qxg8,Rxg8', 'https://lichess.org/training/jXUkZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jXWvp', 'Rapid', 'minotaur_chess', 1656, 'Gedeonx', 1681, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,Rc8,O-O,f6,Re1,fxe5,Nxe5,Nxe5,dxe5,Ne7,Na3,a6,Nc2,Nf5,Ne3,Be7,Nxf5,exf5,f4,d4,cxd4,cxd4,g4,Bc5,Kg2,O-O,g5,Bc6+,Kg3,Kh8,Bf3,Bd5,h4,Qe8,b3,Rd8,Qd3,h6,Bxd5,Rxd5,e6,Qh5,Qf3,Qxf3+,Kxf3,d3,Bd2,Re8,g6,Rd6,Re5', 'Bd4,Rd1,Bxe5', 'https://lichess.org/training/jXWvp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JXxhU', 'Rapid', 'Bob1949', 2030, 'JackHammer4012', 2101, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d3,d6,e4,e5,c3,Bg4,h3,Be6,Qe2,Ne8,Ng5,c6,Nxe6,fxe6,f4,exf4,Bxf4,e5,Be3,Nf6,Nd2,Nbd7,Kh2,Qc7,Rad1,d5,Nb3,Rad8,Bc1,Nb6,Nc5,Qe7,b4,Nbd7,Nxb7,Rb8,Na5,Qd6,a3,d4,c4,c5,b5,Nb6,Qc2,Rf7,a4,Rbf8,Nc6,h6,a5,Nbd7,Nxa7,Nb8,b6,Na6,Ba3,h5,Nb5,Qd7,Qe2,Bh6,Bc1,Bxc1,Rxc1,Nb4,Ra1,Na6,Rf2', 'Ng4+,hxg4,Rxf2', 'https://lichess.org/training/JXxhU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jxXm4', 'Rapid', 'parviz2018', 1811, 'divypartap89', 1969, 'e4,d5,exd5,Qxd5,Nc3,Nf6,Nf3,Qd8,Bc4,e6,O-O,Be7,d3,O-O,a3,Nc6,Bg5,a6,Ba2,h6,Bh4,Nd5,Bxe7,Ncxe7,Ne4,Nc6,h3,Re8,Qd2,Nf6,Rfe1,Nxe4,Rxe4,e5,Rae1,Be6,Bxe6,Rxe6,Nxe5,Nxe5,Rxe5,Rxe5,Rxe5,Qd4,Re7,Qxb2,Rxc7', 'Qa1+,Kh2,Qe5+', 'https://lichess.org/training/jxXm4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JXzji', 'Rapid', 'shahram46', 1703, 'serbi', 1852, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Nxc6,Qxc6,Nc3,Bb4,Qd4,Bxc3+,bxc3,f6,Bc4,b5', 'Bd5', 'https://lichess.org/training/JXzji');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jY0al', 'Blitz', 'Rourou007', 1693, 'ka6', 1722, 'e4,e5,f4,exf4,Nf3,b6,Bc4,Bb7,Nc3,Be7,O-O,Nf6,d3,O-O,Bxf4,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,Kh1,Na6,c4,Qh5,a3,Rad8,b4,c5,b5,Nb8,Qe2,Bf6,Rad1,Rfe8,Qf2,Bd4,Qg3,Re6,Bxb8,Rg6,Qc7,Rf8,Rde1,Qg4,Re2,f6,Bxa7,Be5,Nxe5,Qxe2,Rg1,fxe5,Bxb6,Rxg2,Rxg2', 'Rf1+,Rg1,Qf3#', 'https://lichess.org/training/jY0al');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jy3gj', 'Classical', 'phanbachparker', 1884, 'Glebus2011', 1893, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,b6,Bc4,e6,f4,Nbd7,Qe2,Be7,Bxe6,fxe6', 'Nxe6,Nc5,Nxd8', 'https://lichess.org/training/jy3gj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jY3KP', 'Classical', 'Batuhan0bjk', 1799, 'HappyCampr', 1842, 'e4,c5,d4,cxd4,Nf3,g6,Nxd4,Bg7,Bc4,e6,Be3,Ne7,Nc3,a6,Nf3,Nbc6,Na4,b5', 'Bb6,bxa4,Bxd8', 'https://lichess.org/training/jY3KP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jy4DJ', 'Rapid', 'sanjadhi', 1963, 'Zidyavanhu', 1970, 'Nf3,e6,c4,f5,d4,Nf6,Bg5,Bb4+,Nc3,Bxc3+,bxc3,O-O,e3,b6,Be2,Bb7,a4,Qe8,Bxf6,Rxf6,a5,Qg6,Qa4,Qxg2,Rg1,Qh3,Rg3,Qh6,a6,Bxf3,Bxf3,c6,Ke2,f4,Rg2,fxe3,Rag1,Rg6,fxe3,Rxg2+,Rxg2,d5,cxd5,exd5,Bxd5+,Kh8,Qa3,Nd7,Qe7,Nf6,Bxc6,Rg8,Bf3', 'Re8,Qxg7+,Qxg7,Rxg7,Kxg7', 'https://lichess.org/training/jy4DJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jy4XH', 'Blitz', 'SuperMarionette', 1828, 'messer_Woland', 1787, 'e4,e5,Nf3,Nc6,c3,d6,h3,Nf6,d4,exd4,cxd4,Nxe4,d5,Ne5,Qa4+,c6,Nxe5,Nc5,Nxc6,Qd7,Qb5,bxc6,dxc6,Qe6+,Be3,Ba6,Qa5,Nd3+,Bxd3,Bxd3,Nc3,Be7,O-O-O,Be4,c7,O-O,Nxe4,Qxe4,g3,Rfc8,Rhe1,Qc6+,Kb1,Qc2+,Ka1,Bf6,Bd4,Bxd4,Rxd4,Rxc7,Rb1,Rac8,Rxd6', 'Qxb1+,Kxb1,Rc1#', 'https://lichess.org/training/Jy4XH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JY57Y', 'Blitz', 'Schachthomas', 1669, 'G07D1', 1889, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Nxc3,d6,O-O,Nf6,a3,a5,Bg5,O-O,Nd5,Re8,Re1,Bg4,h3,Bh5,Qd3,Ne5,Nxe5,dxe5,Bxf6,gxf6,Qg3+,Bg6,Qh4,Re6,Rad1,c6,Nf4,Rd6,Rxd6,Qxd6,Nh5,Bxh5,Qxh5,Qd2', 'Qxf7+,Kh8,Qxf6#', 'https://lichess.org/training/JY57Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jy5tt', 'Rapid', 'omidian1339', 1727, 'iom', 1759, 'e4,c5,Nf3,Nc6,Bb5,a6,Be2,d6,O-O,e6,a3,Nf6,Nc3,b5,d4,Bb7,Bg5,Be7,h3,b4,axb4,cxb4,Na4,Nxe4,Bxe7,Nxe7,Re1,Nf6,c3,bxc3,bxc3,O-O,Rb1,Qc7,Qd2,Bc6,Nb2,Rfb8,Nc4,Rxb1,Rxb1,Bb5,Bd3,Bxc4,Bxc4,Qxc4,Rb4,Qc7,Qb2,h6,Rb7,Qd8,Nd2,Ned5,c4,Nf4,Kh2,d5,c5,Nd7,c6,Nf6', 'c7,Qd6,Rb8+', 'https://lichess.org/training/Jy5tt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jy6FI', 'Blitz', 'Korkov86', 2270, 'FM Jossbros', 2377, 'c4,b6,Nc3,Bb7,Nf3,e6,g3,Bxf3,exf3,c5,Bg2,Nc6,O-O,g6,f4,Bg7,Ne4,d5,Qa4,Ne7,cxd5,exd5,Nc3,Rc8,Re1,O-O,d3,Nb4,Qd1,a5,a3,Nbc6,Qf3,Nd4,Qd1,Qd7,Rb1,Rfd8,Bd2,b5,Ne2,a4,Ba5,Re8,Nxd4,Bxd4,Bc3,Nf5,Bh3,Rxe1+,Qxe1,Re8,Qd2,h5,Bxd4,cxd4,Rc1,Qe6,Kg2,Qf6,Rc5,Qd6,Rc1,Ne3+,fxe3,dxe3,Qe2,d4,Kg1,Qd5,Bg2,Qb3,Qc2', 'Qxc2,Rxc2,e2', 'https://lichess.org/training/Jy6FI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYaic', 'Blitz', 'GrimKnights', 1531, 'ssamuel', 1560, 'e4,c5,Nf3,Nc6,Bc4,Nf6,d3,e6,h3,d5,exd5,exd5,Bb5,Bd7,O-O,Be7,Re1,O-O,Bg5,h6,Bh4,a6,Bxc6,Bxc6,Nc3,Re8,Ne5,Qc7,Bg3,Bd6,d4,c4,f4,Nd7,Qe2,f6,Qh5,fxe5,fxe5,Be7,Rf1,Rf8,Qg4,Rxf1+,Rxf1,Qd8,Qe6+,Kh8,Rf7,Bg5,Qg6,Qg8,h4,Bd2,e6,Nf8,Qf5,Nh7,Be5,Rf8,Qg6,Be8', 'Bxg7+,Qxg7,Qxg7#', 'https://lichess.org/training/JYaic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jyAin', 'Rapid', 'armoontan1986', 1858, 'azamat63', 1948, 'Nf3,g6,c4,Bg7,e3,c6,d4,Nf6,Nc3,d5,b3,Bg4,Be2,Nbd7,Ba3,O-O,O-O,Re8,Rc1,a6,cxd5,cxd5,h3,Bxf3,Bxf3,e6,Rc2,Bf8,Bxf8,Kxf8,Qd2,b5,Rfc1,Rc8,Ne2,Nb6,Rc6,Nfd7,Nf4,Qe7,Be2,Rxc6,Rxc6,Rc8,Qc2,Rxc6,Qxc6,Qa3,Nd3,Qxa2,Bf1,Qxb3,Nc5,Nxc5,dxc5,Na4,Qc8+,Kg7,c6,Qc3,Qxa6,Nc5,Qxb5,Ne4,Qa4,Qc2,Qd4+,Kh6,Qe5', 'Qxf2+,Kh2,Qxf1', 'https://lichess.org/training/jyAin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYBGP', 'Rapid', 'amoh1', 1853, 'benechecs', 2191, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,Bg4,Be2,e6,h3,Bf5,a3,Bd6,Nb5,Bb8,c4,Nf6,c5,Ne4,Bd3,O-O,g4,Bg6,h4,h5,Rg1,Re8,gxh5,Bxh5,Bh6,g6,Be2,Bxf3,Bxf3,Qa5+,b4,Qxb5,Bh5,Kh7,Bxg6+,fxg6,Rxg6,Qc4,Qh5,Qc3+', 'Bd2#', 'https://lichess.org/training/JYBGP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYBPT', 'Blitz', 'Tah10tir', 2060, 'CM AAponte', 2391, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Nbd7,e3,Be7,Qc2,b6,Bd3,Bb7,O-O,O-O,b3,c5,Bb2,h6,Rad1,Rc8,Qe2,Qc7,Ne5,Nxe5,dxe5,Ne4,Bxe4,dxe4,Nb5,Qb8,Nd6,Rcd8,Qg4,Qa8,Rd2,Bc6,Rfd1,a5,a4,Rd7,h4,Rfd8,Qh5,Bf8,Qg4,Qb8,Nxe4,Rxd2,Rxd2', 'Bxe4,Rxd8,Qxd8,Qxe4,Qd1+', 'https://lichess.org/training/JYBPT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JybTW', 'Rapid', 'Kontrolor', 1993, 'greatroman', 1763, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,dxe5,dxe5,O-O,Bd6,Bg5,f6,Be3,Na5,Bxd7+,Qxd7,Nc3,Ne7,Nd5,Nxd5,Qxd5,Nc6,Rad1,O-O-O,a3,Be7,Qb3,Qe8,Qa4,a6,b4,Rxd1,Rxd1,Nb8,Qb3,Bd6,c4,Qg8,b5,b6,bxa6,Nxa6,Qa4,Kb7,Qb5,Qe8,Qd5+,Qc6,Qf7,Qxe4,Qxg7,Rf8,h3,Qg6,Qd7,Qf7', 'Rxd6,Qxd7,Rxd7', 'https://lichess.org/training/JybTW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jyCPZ', 'Rapid', 'AjedrezGallegos2019', 1864, 'IRONHIDE123', 1743, 'd4,d5,Nf3,Nc6,c4,e6,e3,Nf6,Nc3,Be7,Rb1,O-O,a3,a5,Bd3,b6,O-O,Ba6,cxd5,Bxd3,Qxd3,exd5,Bd2,Qd6,Rfc1,Qe6,Be1,Ne4,Nd2,f5,Nb5,Qd7,f3,Nxd2,Bxd2,Rac8,Rc2,Nd8,Rbc1,c6,e4,dxe4,fxe4,c5,a4,Ne6,exf5,Nxd4,Nxd4,Qxd4+', 'Qxd4,cxd4,Rxc8', 'https://lichess.org/training/jyCPZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JyCXC', 'Blitz', 'harryfather', 1769, 'Bishop33', 1778, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Bf5,Nf3,e6,Bf4,Bb4,Qd2,Nf6,Bd3,Bxd3,Qxd3,Ne4,Bd2,O-O,a3,Ba5,b4,Bb6,Ne5,Nxc3,Qxc3,Nd7,Qg3,Nxe5,Bh6,Qf6,Bg5,Qg6,dxe5,h6,Bf4,Qxg3,hxg3,Rac8,O-O-O,Bxf2,g4,Rc3,Kb2,Rfc8,Rd2,Bb6,g5,hxg5,Bxg5,a5,Rh4,axb4,axb4,Rg3,Bf4,Rgc3,Re2,R3c4,Bg3,Rc3,Be1,R3c6,g4,Bd4+,Kb3,Rc4,Reh2,g6', 'Rh8+,Kg7,R2h7#', 'https://lichess.org/training/JyCXC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jYDZK', 'Blitz', 'taguadavid', 1813, 'kvanand', 1703, 'd4,d5,c4,Nf6,Nc3,dxc4,e4,c5,d5,e6,Bxc4,exd5,Nxd5,Nc6,Nxf6+,Qxf6,Nf3,Bg4,O-O,Nd4,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,Qxf3,gxf3,g6,b3,Bg7,Rb1,O-O,Be3,b6,f4,Rad8,f5,Rfe8,fxg6,fxg6,f3,Rd3,Kf2,Rf8,h4,Bf6,Rh1,Bd4,Rbe1,Rd2+,Re2,Bxe3+,Kxe3,Rd4,h5,Kg7,h6+,Kg8,Rf1,Rfd8,Rff2,c4,bxc4,Rxc4,Kf4,b5,Kg5,b4,f4,a5,f5,gxf5,exf5,a4,Re7,b3,axb3,axb3,Rb2,Rb8,f6', 'Rb5+,Re5,Rxe5#', 'https://lichess.org/training/jYDZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYePq', 'Rapid', 'Balaokijku', 2059, 'Yashwanthkrishna', 2094, 'd4,Nf6,Bf4,d5,Nf3,e6,e3,Bd6,Ne5,Nbd7,Bg3,Ne4,f4,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/JYePq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYErG', 'Rapid', 'mVesteraas', 1944, 'CONCEntrado', 1666, 'd4,d5,c4,dxc4,e3,Be6,Nc3,Nd7,Nf3,Nb6,g3,c6,Bg2,Qc7,O-O,O-O-O,a4,h5,a5,Nd7,Nd2,h4,Qa4,b5,axb6,Qxb6,Nxc4,Qc7,Bxc6,Bxc4,Qxc4,Nb6,Qa6+,Kb8,Bg2,Nf6,Nb5,Qd7,Qxb6+,axb6', 'Ra8#', 'https://lichess.org/training/JYErG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYfX7', 'Rapid', 'doubleentendres', 2170, 'Pilot100', 2223, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Nf3,b6,Bg5,h6,Bh4,Bb7,e3,Bxc3+,Qxc3,d6,Be2,Nbd7,O-O,Qe7,b4,a5,a3,e5,dxe5,Nxe5,Nxe5,Qxe5,Qxe5,dxe5,Bxf6,gxf6,Rfd1,axb4,axb4,Rxa1,Rxa1,Rd8,f3,Kf8,Ra7,Rb8,e4,Ke7,Kf2,Kd6,Ke3,c5,b5,Kc7,Kf2,Rd8,Ra2,Ra8,Rxa8,Bxa8,Kg3,f5,exf5,Kd7,Kh4,Ke7,g4,Kf6,Kh5,e4,fxe4,Kg7,e5,Be4,h4,Kh7,Bd1,Bd3,Bf3,Kg7,Bd5,Bc2,e6,fxe6,Bxe6,Bd3,g5', 'Be2#', 'https://lichess.org/training/JYfX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYh49', 'Rapid', 'matgever', 1971, 'momo_klaus', 1968, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,fxe4,dxe4,Nf6,Bg5,d6,O-O,Be7,Nc3,O-O,Bc4+,Kh8,Re1,Bg4,Be2,h6,Bh4,Bxf3,Bxf3,Nd4,Bxf6,Rxf6,Bg4,Rg6,Bh3,Qf8,Rf1,c6,Kh1,Qf4,Qd3,Rf8,Ne2,Nxe2,Qxe2,Qh4,Bf5,Rgf6', 'g3,Qg5,h4,Qxf5,exf5', 'https://lichess.org/training/JYh49');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYIvZ', 'Rapid', 'yunusemre33', 1662, 'marzio', 1900, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,Bxc6,Bxc6,Nxc6,bxc6,Nc3,g6,b3,Bg7,Bb2,Nf6,Qd2,O-O,O-O-O,a5,a4,Nd7,f4,c5,Qd5,c4,Qxc4,Rc8,Qd3,Nc5,Qd2,Qb6,f5,Rfd8,Qd5,Bh6+,Kb1,Bg7,fxg6,hxg6,h4,Bxc3,Bxc3,Nxa4,Rd3,Nxc3+,Rxc3,Rxc3,h5,Qc5,Qd2,a4,hxg6,fxg6,Qh6,Kf7,Qf4+,Ke8,Qg4,Qe5,Rf1,e6,Qxg6+,Kd7,Rf7+,Kc6,Qh7,Rc8,Rb7,Kc5,bxa4,Ra3', 'Rb5+,Kd4,Rxe5', 'https://lichess.org/training/JYIvZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYjbv', 'Rapid', 'Arturro72', 1767, 'kazard', 1690, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c3,Bg4,Be2,e6,h3,Bh5,O-O,Nf6,Bg5,Be7,Bxf6,Bxf6,Ne5,Bxe2,Qxe2,Qc7,Nxc6,bxc6,Nd2,O-O,Nf3,Rab8,Rab1,Rb6,h4,Rfb8,b3,a5,h5,a4,b4,R6b7,h6,g6,g4,c5,g5,Bh8,a3,cxb4,cxb4,Qc3,Rfd1,Qxa3', 'Rd3,Rxb4,Rxa3', 'https://lichess.org/training/JYjbv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jyJhQ', 'Rapid', 'olivier5', 1706, 'kilima', 1705, 'e4,e5,Nf3,d6,Nc3,Nf6,Bc4,Bg4,h3,Bh5,g4,Bg6,d3,h6,g5,hxg5,Nxg5,Bh5,f3,Be7,h4,Nc6,a3,a6,Be3,Nd4,Bxd4,exd4,Qe2,b5,Ba2,c5,O-O-O,O-O,Nd5,Nxd5,exd5,Bxg5+,hxg5,Qxg5+,Kb1,g6,Rdg1,Qe5', 'Qxe5,dxe5,Rxh5', 'https://lichess.org/training/jyJhQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYJlp', 'Rapid', 'blonded99', 1951, 'aliraz', 1928, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Nf6,d3,Bc5,O-O,Be6,Nxe5,O-O,Nf3,Qd7,Re1,Bxh3,gxh3,Qxh3,Nh2', 'Bxf2+,Kxf2,Qxh2+', 'https://lichess.org/training/JYJlp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jYK66', 'Classical', 'benjamintorr', 1868, 'Miguelfis', 1748, 'd4,d5,Bf4,Nc6,Nf3,Nf6,e3,Bg4,c4,e6,a3,Be7,h3,Bh5,c5,Ne4,Be2,O-O,Nbd2,Na5,Qc2,Bg6,Bd3,f5,b4,Nc6,Nb3,Bh5,b5,Nb8,Be2,Bxf3,Bxf3,Bh4,g3,Bg5,a4,Bxf4,exf4,Nd7,c6,bxc6,Qxc6,Nb6,Qxe6+,Kh8,Qc6,Re8,O-O,Nc4,Rfe1,Rb8,Re2,Rb6,Qxe8+,Qxe8,Rae1,Rh6,h4,Rg6,Nc5,Ncd6,Bh5,h6,Kh2,Kh7,f3,Qf7,Bxg6+,Qxg6,fxe4,dxe4,Rc1,Qf7,Na6,Ne8,Kg2,Kh8,Kf2,Kh7,Ke3,Kh8,Rec2,Kh7,Rc3,Kg6,Nxc7,Kh7,Nxe8,Qxe8,Rd1,Qf7,d5,Qd7,d6,Kg6,Rc7,Qe6,d7,Qb3+,Ke2,Qf3+,Ke1,Qe3+,Kf1,Qf3+,Ke1,e3,Rd6+,Kh5,d8=Q', 'Qf2+,Kd1,e2+,Kc2,e1=Q+', 'https://lichess.org/training/jYK66');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYk7c', 'Rapid', 'nkarstarli', 1764, 'malsoma', 1824, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,cxd6,Nf3,Bg4,Qd3,Na6,a3,Qd7,Be2,Nxc4,Qxc4,Rc8,Qb5', 'Rxc1+,Kd2,Rxh1', 'https://lichess.org/training/JYk7c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JyKAb', 'Blitz', 'CoachJason', 1765, 'Eriikcc', 1842, 'd4,d5,e3,Bf5,Nf3,e6,Bd3,Bg4,h3,Bh5,Nbd2,a6,b3,c5,dxc5,Bxc5,Bb2,Nf6,g4,Bg6,Qe2,Nbd7,Ne5,O-O,Nxg6,hxg6,Nf3,b5,Ne5,Rc8,h4,Nxe5,Bxe5,Qa5+,Kf1,d4,Bxf6,gxf6,h5,g5,h6,dxe3,h7+,Kg7,fxe3,Qb6,Qh2,f5', 'Qh6+,Kh8,Qf6#', 'https://lichess.org/training/JyKAb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jyke2', 'Classical', 'Oenock', 1668, 'Luisjorquera', 1605, 'd4,d5,Nf3,Bg4,e3,Nc6,Nbd2,Bxf3,Nxf3,a6,a3,e5,Nxe5,Nxe5,dxe5,f6,exf6,Nxf6,Be2,Be7,O-O,O-O,b3,c6,Bb2,Ne4,Qd4', 'Bf6,Qd3,Bxb2', 'https://lichess.org/training/Jyke2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jYlcs', 'Rapid', 'BlindSwine', 1898, 'almjik', 1873, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,f5,N1c3,Nf6,Bg5,a6,Na3,Be7,Bd3,fxe4,Nxe4,O-O,Nxf6+,Bxf6,Bxf6,Rxf6,O-O,Be6,Nc2,Qb6,Qc1,Raf8,Ne3,Nd4,Qd2,Rf4,Nd5,Bxd5,cxd5,Qc5,Rac1,Qxd5', 'Bc4,Qxc4,Rxc4', 'https://lichess.org/training/jYlcs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYM8O', 'Blitz', 'IM MitchyF', 2441, 'Chess_22', 2334, 'd4,d5,Bf4,c5,c3,cxd4,cxd4,Nf6,Nc3,Nc6,e3,a6,Bd3,Bg4,Qb3,Na5,Qc2,e6,Nf3,Bxf3,gxf3,Bd6,Bxd6,Qxd6,Qa4+,Nc6,Bb5,Rc8,Bxc6+,Qxc6,Qxc6+,Rxc6,Kd2,Ke7,Rac1,Rhc8,Rc2,Nd7,Rhc1,Kf6,f4,Kf5,f3,Nb6,b3,Nd7,h4,Kg6,Rg1+,Kh6,Rg2,Nf8,Kd3,g6,e4,f6,exd5,exd5,Nxd5,Rxc2,Rxc2,Rxc2,Kxc2,Nd7,f5,Kh5,fxg6,hxg6,Nf4+,Kxh4,Nxg6+,Kg3,Kd3,Kxf3,Nh8,f5,Nf7,f4,Ne5+,Nxe5+,dxe5,Kg2', 'e6,f3,e7,f2,e8=Q,f1=Q+,Qe2+', 'https://lichess.org/training/JYM8O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYO4q', 'Rapid', 'carcasrom', 1771, 'Ragnar1338', 1696, 'd4,e6,c4,f5,Nc3,Nf6,Bg5,Be7,e3,O-O,Bd3,b6,Qc2,Bb7,Nf3,c5,Nd2,cxd4,exd4,d5,Bxf6,Bxf6,Nf3,dxc4,Bxc4,Bd5,Nxd5,exd5,Bb5,Qe7+,Kd2', 'Qb4+,Qc3,Qxb5', 'https://lichess.org/training/JYO4q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jyo68', 'Rapid', 'Mhmd8080', 2001, 'RoBinot', 1944, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,Qxd4,Nf3,Qb6,O-O,Bxe4,Bxe4,Nf6,Qd3,Nbd7,Be3,Nc5,Bxc5,Qxc5,Rfd1,e6,b4,Qxb4,Nd4,Bc5,Nxc6,Qxe4', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/jyo68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JyoTe', 'Blitz', 'foad2019', 1906, 'HondaDX11eleven', 1904, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,b3,Bc5,Nf3,O-O,d4,Bb4+,Bd2,Bxd2+,Qxd2,Bg4,Ne5,Re8,Be2,Nc6,Bxg4,Nxg4,O-O,Ncxe5,dxe5,Qh4,h3,Nxe5,Nc3,Rad8,Qc2,Rd3,Rad1,Nf3+,gxf3,Qg5+,Kh2,Qf4+,Kg2,Qxf3+,Kg1,Re6,Rxd3', 'Rg6+,Kh2,Qg2#', 'https://lichess.org/training/JyoTe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYOtF', 'Blitz', 'NielsvanDuren', 2134, 'baipi', 1950, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,g6,Bc4,e6,O-O,Bg7,Re1,O-O,Bg5,Qd7,Nbd2,Nb6,Bb3,c5,c3,cxd4,cxd4,Nc6,Ne4,dxe5,dxe5,Qxd1,Raxd1,Na5,Bc2,Nd5,a3,b6,b4,Nc4,Bb3,b5,Nf6+,Nxf6,exf6,Bh8,Bxc4,bxc4,Ne5,Ba6,a4,Rad8,b5,Bb7,Nc6,Bxc6,bxc6,Rc8,Rd7,Rxc6,Rxa7,c3,a5,c2,Rc1,Rd8,h4,h6,Be3,Bxf6,a6,Rd1+,Kh2,Rxc1,Bxc1,Be5+,g3,Rd6,Ra8+,Kg7,a7,Bd4', 'Rg8+,Kxg8,a8=Q+', 'https://lichess.org/training/JYOtF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jyOyH', 'Blitz', 'angryuwon', 2092, 'MedievalMan', 2054, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,Bxg5,hxg5,Qxg5,Nh3,Qg6,Nf4,Qg5,Qf3,c5,Nb5,Na6,Nd6+,Ke7,Nh3,Qg6,Nf4,Qxc2,Bd3,Qxb2,Nxd5+,exd5,Qxf7+,Kd8,O-O,Qxd4,Qe6,Qxd3', 'Nf7+,Kc7,Qd6#', 'https://lichess.org/training/jyOyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JyQ8V', 'Blitz', 'vova351', 2190, 'cdl15', 1836, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Nc3,O-O,O-O,Nbd7,f4,Nc5,Qf3,c6,Be3,Bg4,Qg3,Bh5,Bd3,d5,Nf5,Bg6,e5,Nfe4,Bxe4,Nxe4,Nxe4,Bxf5,Nf2,Bxc2,Bd4,c5,Bc3,d4,Bd2,c4,Ng4,Qb6,f5,c3,f6,cxd2', 'Nh6+,Kh8,Qxg7#', 'https://lichess.org/training/JyQ8V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JyQd1', 'Rapid', 'abdulvahid', 2108, 'ersoyy', 2023, 'e4,c5,Nf3,Nc6,b4,cxb4,d4,e6,d5,exd5,exd5,Qe7+,Be2,Ne5,O-O,Nxf3+,Bxf3,Qf6,Re1+,Be7,c3,d6,Bb2,Bd7,Qe2,O-O-O,cxb4,Qg6,Nc3,Re8,Rac1,Kb8,Nb5,Bf6,Nxd6,Rxe2,Rxe2,Bxb2', 'Re8+,Bxe8,Rc8#', 'https://lichess.org/training/JyQd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JyTFR', 'Blitz', 'hacaleroc', 2109, 'Daniel0821', 1611, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,a6,Bxc6,dxc6,Re1,Bg7,c3,e5,d3,Ne7,Be3,b6,Na3,O-O,Qd2,Bg4,Bh6,Qd7,Nc4,Bxf3,gxf3,Qh3,Bxg7,Kxg7,Nxe5,f5,d4,fxe4,fxe4,cxd4,Qxd4,Kg8,Qc4+,Kg7,Rad1,Qh4,Qd4,Rad8,Qe3,Ng8,Nxc6', 'Rxd1,Rxd1,Qg4+,Kh1,Qxd1+', 'https://lichess.org/training/JyTFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jYuFM', 'Rapid', 'tasim123', 2023, 'Dose92', 1975, 'd4,d5,e4,dxe4,c4,Nf6,Nc3,e6,Bg5,Bb4,Qa4+,Nc6,O-O-O,Bxc3,bxc3,O-O,Ne2,h6,Bh4,Bd7,Qa3,a6,Nf4,b5,c5,a5,Nh5,b4,Qb2,bxc3,Qxc3,Nb4,Bxf6,gxf6', 'Qg3+,Kh7,Qg7#', 'https://lichess.org/training/jYuFM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jYuGu', 'Rapid', 'reybo78', 1701, 'raja8a', 1695, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Nd5,Bc4,Qe7,f4,Bb7,O-O', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/jYuGu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYUJ6', 'Rapid', 'cobre', 1963, 'scuzzi', 1910, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,Bxc6,dxc6,c3,Nf6,Re1,Nd7,d4,cxd4,cxd4,e5,dxe5,Nxe5,Qxd8+,Kxd8,Nxe5,Bxe5,Nc3,Be6,Bg5+,Kc7,f4,Bg7,e5,h5,Be7,Rae8,Bd6+,Kc8,Ne4,b6,Ba3,Rd8,Nd6+,Kb8,Rad1,c5,b4,cxb4,Bxb4,Bxa2,Ra1,Be6,Nb5,Rd7,Bd6+,Ka8,Nc7+,Kb7,Nxe6,fxe6,Ra2,Ra8,Re3,Bf8,Bxf8,Rxf8,Rg3,Rg7,Rga3,Ra8,Rd2,b5,Rd6,Re7,Raa6,Rae8,Ra5,Rc7,Rxb5+,Ka8,Ra5,Rf7,Raa6,Rfe7,Kf2,Kb7,Kg3,Ka8,Kh4,Kb7,Kg5,Rf7,g3,Rg8,Rxe6,Rf5+,Kh6,g5,fxg5,Rfxg5,Rg6,R8xg6+,Rxg6,Rxe5,Rg5', 'Rxg5,Kxg5,a5,Kxh5,a4', 'https://lichess.org/training/JYUJ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jyvmf', 'Rapid', 'angelinrica', 1889, 'musicpawn', 1721, 'e4,e6,Nf3,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bc4,c6,O-O,Be7,Bg5,O-O,Ne5,b5,Bd3,Bb7,Ne4,Nxe4,Bxe7,Qxe7,Bxe4,f5,Bf3,Rd8,c3,c5,Qe2,cxd4,cxd4,Rxd4,Qxb5,Bxf3,Nxf3,Rd5,Qc4,Nd7,Rfe1,Nb6,Qb3,h6,Ne5,Qc5,Rac1,Qd6,Nc4,Nxc4,Qxc4,Rd8,g3,Qb6,b3,Kf7,g4,g6,gxf5,Rxf5,Re3,Rd2,Qc7+,Kf6,Qxb6,axb6,Rc6,Rdxf2,Rexe6+,Kg5,Rxg6+,Kh5,Rxh6+,Kg4,Rcg6+,Kf3,Rxb6', 'Rg5+,Kh1,Rf1#', 'https://lichess.org/training/jyvmf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYW1R', 'Rapid', 'Absolem', 1756, 'Serafim1', 2167, 'e4,d5,exd5,Qxd5,Nc3,Qa5,g3,Nf6,Bg2,c6,Nf3,Bg4,O-O,e6,Qe2,Nbd7,d4,Bd6,Bg5,O-O-O,Bd2,Qc7,a3,Nd5,b4,Nxc3,Bxc3,Nf6,Bd2,h6,c4,Be7,Bf4,Bd6,Be3,a6,c5,Bxf3,Bxf3,Be7,Bf4,Qd7,Rfd1,Nd5,Bxd5,Qxd5,Qe5,Qxe5,Bxe5,f6,Bf4,g5,Be3,h5,a4,h4,b5,hxg3,hxg3,axb5,axb5,cxb5,Rdb1,Kc7,Rxb5,Ra8,Rab1,Ra7,f4,Rg8,Rb6,gxf4,Bxf4+,e5,dxe5', 'Bxc5+,Kg2,Bxb6,exf6+,Kc6', 'https://lichess.org/training/JYW1R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jyXk2', 'Classical', 'madbey', 1660, 'sabityazid46', 1743, 'e4,e6,Nf3,d5,e5,f6,d4,c5,Be3,cxd4,Bxd4,Nc6,Bc3,Nxe5,Bxe5,fxe5,Nxe5,d4,Bd3', 'Qa5+,Nd2,Qxe5+', 'https://lichess.org/training/jyXk2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JYY0F', 'Rapid', 'TalWannabee', 1818, 'maybesomaybeno', 1792, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,Bf4,Bd6,Bxd6,Qxd6,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,Nf6,O-O-O,Na6,a3,Qf4+,Qd2,Qxd2+,Rxd2,Rd8,Re1,O-O,c3,c5,Red1,cxd4,Nxd4,Nc5,Kc2,Nce4,Nxe4,Nxe4,Re2,Nc5,Re5,b6,Rde1,Nd7,R5e2,Nf6,Nc6,Rd7,Re5,Ng4,R5e2,Rc8,Ne5,Nxe5,Rxe5,Rcd8,R1e2,Rd5,c4,Rd4,b3,Rd1,Kc3,Rg1,f3,Ra1,Kb4,Rb1,R5e3,a6,Rc2,Rbd1,Rce2,Rh1,g4,Rhd1,Re5,R1d3,R5e3,R3d4,Re1,Rf4,Kc3,Rfd4,Rf1,R4d7,Rfe1,Rc8,Kb4,Rc5,Rf1,a5+,Kc3,b5,Re4,bxc4,Rxc4,Rdc7,Rf2,Kf8,Kd4,Rd5+,Kc3,Rxc4+,Kxc4,Ke7,b4,axb4,axb4,Kd6,f4,Kc6,Rc2,Kb6,Kb3,f5,gxf5,exf5,Rf2,Rd4,Kc3,Re4,Kd3,Kb5,Rb2,Rxb4', 'Rxb4+,Kxb4,Kd4', 'https://lichess.org/training/JYY0F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jyyjC', 'Rapid', 'gjeunen', 1753, 'elrode', 1850, 'e4,e5,Qh5,Nc6,Bc4,Qf6,Nc3,g6,Qf3,Nd4,Qxf6,Nxf6,Bb3,Bb4,d3,d6,Bd2,Be6,Bxe6,fxe6,O-O-O,Ng4,Nh3,O-O-O,f3,Nf6,Nb1,Bxd2+,Rxd2,Rdf8,Nc3,Nd7,Ne2,h6,Nxd4,exd4,Ng1,e5,Ne2,c5,Kb1,h5,Rf1,g5,Nc1,Nf6,Nb3,h4,h3,Nh5,Na5,Nf4,Nc4,Kd7,Na5,b6,Nc4,Rf7,b3,Rhf8,Nb2,Kc6,a4,a5,Nc4,Nh5,Rdf2,Ng3,Re1,Rf6,Kb2,Kb7,c3,Ka6,cxd4,cxd4,Rc1,Rc8,Nd2,Rxc1,Kxc1,b5,Kb2,bxa4,bxa4,Rf7,Nc4,Rd7,Ka3,Nh5,Rb2,d5,Nxe5,Rd6,Rb5,dxe4,fxe4,Nf4,Nf7,Rc6,Nxg5,Nxd3,Rd5', 'Rc3+,Ka2,Nb4+,Kb2,Nxd5', 'https://lichess.org/training/jyyjC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jyyJP', 'Classical', 'HansGustav', 1771, 'Maruti87', 1756, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,a6,e3,Bg4,Be2,Bxe2,Qxe2,e6,Nf3,Bb4,Ne5,Ne4,Rc1,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/jyyJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jz2AM', 'Rapid', 'Patmat1', 1681, 'westuga', 1695, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Bc5,Nxc6,bxc6,O-O,Nf6,Nc3,O-O,e5,Ne8,Ne4,Bb6,Bg5,f6,exf6,Nxf6,Nd6,Bc7,Ne4,d5,Nxf6+,Rxf6,Bxf6,Qxf6,Bb3,Ba6,Re1,Rf8,f3,Bb6+,Kh1,Bf2,Rf1,Bxf1,Qxf1,Bb6,Re1,e5,c4,Qd6,Rd1,Bd4,a4,a5,Qe2,Qb4,Qc2,Rb8,cxd5', 'Qxb3,Qxb3,Rxb3', 'https://lichess.org/training/jz2AM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jz5x3', 'Rapid', 'vitchodar', 1781, 'Annuex', 1790, 'e4,e6,d4,d6,Nf3,Nd7,Nc3,Ngf6,Bc4,Be7,O-O,O-O,e5,dxe5,dxe5,Nd5,Nxd5,exd5,Bxd5,c6,Bb3,Qc7,e6,fxe6,Bxe6+,Kh8,Re1,Nf6,Bxc8,Raxc8,Qd4,Bd6,Qh4,Rf7,Ng5,Rd7,f4,h6,Bd2', 'Bc5+,Kh1,Rxd2', 'https://lichess.org/training/jz5x3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZ7Xh', 'Rapid', 'maverick111', 1669, 'evgen416n', 1688, 'e4,e5,Nf3,d6,g3,g6,Bg2,Bg7,O-O,Nf6,d3,Be6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Qd7,Qf3,Qe7,Nc3,c6,Rfe1,Nbd7,b4,b5,a4,O-O,axb5,cxb5,Nd5,Bxd5,exd5,Qd8,Ra6,Qc7,Rc6,Qb8,Ra1,Rc8,Rxc8+,Qxc8,Bh3,Qxc2,Rf1,Qc3,Bxd7,Nxd7,Be7,Qxb4,d4,Qxd4,Rd1,Qb6,Qg4,Qc7,Bg5,a5', 'Bh6,Kf8,Qxg7+', 'https://lichess.org/training/jZ7Xh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZ9YI', 'Classical', 'mirvahid', 1646, 'Amrlxy_19', 1674, 'e4,e6,Nf3,d5,e5,c5,d4,Nc6,c3,Bd7,a3,f6,h3,fxe5,dxe5,Qc7,Bf4,Be7,Nbd2,O-O-O,Nb3,Rf8,g3,h6,h4,h5,Bg2,Nh6,Bxh6,gxh6,Qe2,Rf5,Bh3,Rf7,O-O-O,Rhf8,Bg2,Rf5,Rhf1,Nxe5,Nxe5,Rxe5,Qd2,Kb8,f4,Ref5,Bh3,R5f6,Bg2,Ba4,Bxd5,exd5,Qxd5,Rd8,Qc4,Bxb3,Qxb3,Rfd6,Rxd6,Rxd6,Rd1,Rxd1+,Qxd1,b6,Qxh5,Bf8,Kc2,Qe7,Kd2,Qd6+,Kc2,Kc7,Qf7+,Kc6,Qe8+,Kb7,Qf7+,Ka6,Qe8,Ka5,a4,a6,Kb3,Qd5+,Kc2,Qg2+,Kb3,Qd5+,Kc2,Qf5+,Kb3,c4+,Kxc4,Bc5', 'b4+,Bxb4,cxb4#', 'https://lichess.org/training/jZ9YI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jzalY', 'Rapid', 'sharkema', 1607, 'isleofanimals', 1775, 'e4,c5,Nc3,e6,Bc4,a6,Bb3,b5,a4,b4,Nce2,Bb7,d3,d6,f4,Qc7,Nf3,Nf6,O-O,Nbd7,f5,e5,Ng5,d5,Ne6,fxe6,fxe6,Nb6,g4,O-O-O,g5,c4,Ba2,Ne8,Rf7,Qb8,g6,hxg6,Bg5,Rd7,Qf1,Rxf7,Qxf7,Nd6,Qxg6,Qc7,Rf1,dxe4,dxc4,Nbxc4,Bxc4,Nxc4', 'Qe8+,Qd8,Qxd8#', 'https://lichess.org/training/jzalY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JZaUr', 'Classical', 'MrUnpleasantMoves', 1833, 'Rafikgrigoryan', 1980, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Qxd4,e5,Qa4+,Bd7,Bb5,Nc6,Bg5,Be7,Bxf6,gxf6,Nd5,a6,Bd3,Rg8,g3', 'Nd4,Qa3,Nxf3+', 'https://lichess.org/training/JZaUr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JZbha', 'Blitz', 'Niz_frehat', 1705, 'EviL-Pk', 1677, 'b3,Nf6,Bb2,g6,e3,Bg7,Be2,d6,Nf3,O-O,O-O,Nbd7,c4,b6,Nc3,Bb7,d4,Re8,d5,c6,dxc6,Bxc6,Nd4,Bb7,Bf3,Bxf3,Qxf3,Nh5,Nc6,Qc7,Nb4,a5,Nbd5,Qc8,Na4,Rb8,Bxg7,Kxg7,Nb2,Ndf6,Nd3,e6,N5f4,Nxf4,Qxf4,e5,Qg5,h6,Qg3,Nh5,Qf3,e4,Qd1,exd3,Qxd3,Qe6,Rad1,Rbd8,Qd4+,Qf6,Qxb6,Re6,Qxa5,Rde8,Rd2,Qg5,Qc3+,Nf6,Rfd1,Rd8,Qb4,Qe5,Qb6,Ng4,Qxd8,Qxh2+,Kf1,Qh1+,Ke2,Qh5,f3', 'Rxe3+,Kf1,Qh1#', 'https://lichess.org/training/JZbha');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZbVs', 'Rapid', 'pushkutty', 1768, 'rsandzimier', 1900, 'd3,e5,e4,Nf6,Nf3,Nc6,Nc3,d5,exd5,Nxd5,Be2,Bb4,Bd2,Bg4,O-O,O-O,a3,Ba5,b4,Nxc3,Bxc3,Bb6,Nxe5,Nxe5,Bxe5,Bxe2,Qxe2,Re8,Rfe1,f6,d4,Bxd4', 'Qc4+,Kh8,Bxd4', 'https://lichess.org/training/jZbVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzCkF', 'Blitz', 'JPerri23', 2068, 'Jeffrey-9999', 2058, 'e4,c6,f4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,gxf6,Nf3,Rg8,Bc4,Be6,Bb3,Bxb3,axb3,Rxg2,d3,Qb6,d4,Nd7,Be3,Qc7,Qd3,e6,Qxh7,a6,O-O-O,Qa5,Kb1,Nb6,Bd2,Qd5,Nh4,Rxd2,Rdg1,f5,Re1,Qxd4,Nf3,Qd5,Nxd2,Qxd2,Rhg1,Nd5,Rd1,Qxf4,Rg8,Nf6,Rxf8+,Kxf8,Qh8+,Ng8,h4,Ke7,h5,Re8,Qc3,Nf6', 'Qc5+,Qd6,Qxd6#', 'https://lichess.org/training/JzCkF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jzcvX', 'Rapid', 'camus133', 1819, 'majestyc', 1878, 'd4,d5,c4,Nf6,Nf3,Nc6,e3,dxc4,Bxc4,e6,Nc3,Bb4,O-O,O-O,a3,Be7,Re1,a6,e4,b5,Bd3,Nxd4,Nxd4,Qxd4,e5,Nd5', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/jzcvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzdQp', 'Rapid', 'Kamilczak7', 1656, 'Andrey-03', 1654, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Bf5,g4,Bg6,h4,h6,h5,Bh7,Bc4,e6,f4,Bb4,g5,hxg5,Qg4,gxf4', 'Qxg7,Qf5,Qxh8', 'https://lichess.org/training/JzdQp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZETp', 'Rapid', 'hendrik42', 1665, 'BindusThudd', 1679, 'd4,d5,c4,Nc6,Nc3,Nf6,Bg5,Ne4,Nxe4,dxe4,d5,Na5,Qa4+,c6,dxc6,Nxc6,c5,Qc7,Qxe4,Qa5+,b4,Qxb4+,Bd2,Qxc5,Rc1,Qb6,Nf3,Be6,Nd4,Nxd4,Be3,Qb4+,Bd2,Qb2,e3,Nf5,Ba6,Rd8,O-O,bxa6,Ba5,Rc8,Rxc8+,Bxc8,Rd1,Nd6,Qc6+,Bd7,Qa8+,Nc8', 'Qxc8+,Bxc8,Rd8#', 'https://lichess.org/training/jZETp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzEYb', 'Rapid', 'Physs', 1731, 'YouAreMeIAmYou', 1758, 'd4,d5,c4,dxc4,Nc3,Bf5,e4,Bg6,Bxc4,e6,a3,Nc6,Nf3,Bh5,Be2,Bxf3,Bxf3,Qxd4,Be3,Qxd1+,Rxd1,Ne5,Be2,Bd6,O-O,Nf6,f4,Nc6,e5,Bxe5,fxe5,Nxe5,Nb5,Nd5,Rxd5,exd5,Nxc7+,Kd7,Nxa8,Rxa8,Bb5+,Ke6,Bd4,f6,Rc1,a6,Be2,Nc6,Bb6,Re8,Bg4+,Kf7,Bd7,Re2,Bxc6,bxc6,Bd4,Re4,Bf2,Rc4,Rxc4,dxc4,Kf1,Ke6,Ke2,Kd5,Kd2,f5,Kc3,g5,Kb4,c5+,Bxc5,h5,Be7,g4,Ka5,Kd4,Bb4,f4,Kxa6,h4,Bd2,f3,gxf3,gxf3,Be1,Kd3,Bxh4,Kc2,a4', 'Kxb2,Kb7,c3,a5,c2,a6,c1=Q', 'https://lichess.org/training/JzEYb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jzg1V', 'Rapid', 'nigilist83', 1750, 'mertdurmaz4', 1761, 'd4,g6,Bf4,Bg7,Nf3,d5,e3,Nf6,Be2,O-O,h4,Nc6,c3,e6,Ne5,Nxe5,Bxe5,Nd7,Bxg7,Kxg7,h5,c5,Nd2,cxd4,exd4,Rh8,Qc2,Nf6,hxg6,hxg6,O-O-O,Bd7,f3,Qc7,Kb1,a5,a3,a4,g4,Rxh1,Rxh1,Rh8,Rg1,Qh2,Qd1,Ne8,Qf1,Nd6,f4,f5,gxf5,exf5,Nf3,Qxf4,Qg2,Qe4+,Ka2,Be8,Qg3,Qc2,Bd1,Qe4,Ne5,Rh6,Rg2,Qh4,Qf2,Qxf2,Rxf2,b5,b3,Rh8,Rg2,axb3+,Bxb3,Ne4,Kb2,Rh3,Rc2,Bf7,Nxf7,Kxf7,Bxd5+,Ke7,Bc6,Nd6,Rg2,Kf6,Kb3,f4,Rf2,g5,Kb4,Kf5', 'Bd7+,Ke4,Bxh3', 'https://lichess.org/training/jzg1V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZgGc', 'Blitz', 'schmutzig_ente', 2200, 'ArkMatoch', 2011, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,Bd2,cxd4,Nb5,Be7,Qg4,Kf8,Nxd4,Nc6,Nxc6,bxc6,Nf3,h5,Qa4,Qb6,b3,Bd7,Ba5,Qb7,Bd3,c5,Qf4,Nh6,O-O,Ng4,h3,Nh6,Rfe1,Rc8,c4,d4,Ng5,Bxg5,Qxg5,Bc6,f3,Qe7,Qxe7+,Kxe7,Bd2,Nf5,Bxf5,exf5,Bc1,Ke6,Ba3,Bb7,Rad1,Rhd8,Rd3,h4,Kf2,g5,Bc1,f4,Bd2,Re8,Bc1,Kf5,Bb2,Rxe5,Rxe5+,Kxe5,b4,cxb4,Rxd4,Ke6,a3,bxa3,Bxa3,Ba6,Rd6+,Ke5,c5,Bc4', 'Bb2+,Kf5,Rf6#', 'https://lichess.org/training/jZgGc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzGsU', 'Rapid', 'fedeBenedetto', 1676, 'alfredsht', 1667, 'c4,Nf6,d4,e6,Nc3,d5,e3,Bb4,Bd2,Bxc3,Bxc3,O-O,cxd5,exd5,Nf3,Nc6,Bd3,Bg4,h3,Bh5,O-O,Ne4,Re1,Ne7,Qc2,Bxf3,gxf3,Ng5,Be2,Qd7,f4,Nxh3+,Kf1,Qe6,Bf3,Nf5,e4,Nh4,exd5,Qf6,Re3,Qxf4,Ke2,Rae8,Kd3,Rxe3+,fxe3,Qxf3,Kc4,Rd8,e4,f5,e5,Qxd5+,Kd3,Nf4+,Kd2,Nf3+,Ke3,Ng6,Qxf5,Rf8,Qg4,Nh2,Qg5,Qf3+,Kd2,Nf1+,Kc2,Qe4+,Kb3,Qd5+,Ka3,Qc4,Rc1,Qa6+,Kb3,Qb6+,Kc2,Rf2+,Kb1,c6,Qg1,Rxb2+', 'Bxb2,Nd2+,Ka1', 'https://lichess.org/training/JzGsU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzgXt', 'Rapid', 'TheWinChesster', 1646, 'spartak_2016', 1653, 'e4,e5,Bc4,h6,a3,Nf6,d3,Bc5,Nf3,d6,O-O,O-O,Be3,Nbd7,b4,Bb6,Nbd2,Ng4,Nb3,Bxe3,h3,Bb6,hxg4,Nf6,Nh2,a6,d4,Nxe4,Bd3,Nf6,c3,e4,Be2,d5,f4,c6,f5,Nh7,Ra2,Bc7,Qe1,Qd6,g3,Ng5,Bd1,Re8,Re2,Bd7,Re3,Re7,Kg2,Rae8,Rf2,b6,Qf1,f6,Be2,c5,bxc5,bxc5,Nxc5,Qc6,a4,Bc8,c4,Ba5,cxd5,Qxd5', 'Bc4,Qxc4,Qxc4+', 'https://lichess.org/training/JzgXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jzhdn', 'Blitz', 'LeMagicien1971', 2062, 'teocez', 2074, 'e4,c5,d4,cxd4,Nf3,Nc6,Bc4,d6,O-O,e5,c3,dxc3,Nxc3,Nf6,Be3,Be7,Bxf7+,Kxf7,Qb3+,Kf8,Rad1,h6,Nh4,Qe8,f4,Ng4,fxe5+,Bf6,exf6,Nxe3,fxg7+,Kxg7,Nd5,Nxd1,Qxd1,Qxe4,Nf3,Bg4,Nc3,Qe3+,Kh1,Rhf8,Qxd6,Bxf3,gxf3,Rxf3,Rg1+,Kh7', 'Qg6+,Kh8,Qg7#', 'https://lichess.org/training/Jzhdn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzhOE', 'Rapid', 'goga-magoga', 2345, 'tpr', 2161, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Bg5,h6,Be3,e5,d5,a5,h3,Na6,g4,Nc5,Bf3,c6,Qd2,Kh7,Nge2,cxd5,cxd5,Bd7,g5,Ng8,h4,h5,Ng3,f5,exf5,Bxf5,Nxf5,Rxf5,Be4,Nxe4,Nxe4,Ne7,Rc1,a4,Ke2,Ra5,Rhd1,Nxd5,Qxd5,Rxd5,Rxd5,Bf8,Rc4,Qd7,Nc3,e4,Rd2,b5,Rxe4,d5,a3,Qc6,Red4,Bg7,Rxd5,Qc4+,R5d3,Qxh4,Nd5,Qg4+,Kf1,h4,Nf6+,Bxf6,gxf6,Rxf6,Rd7+,Kg8,Rd8+,Rf8,R8d4,Qh3+,Kg1,Kg7,Bg5,Rf7,Rxh4,Qf3,Be3,Qc6,Bd4+,Kf8,Rh8+,Ke7,Bc3,Ke6,Re2+,Kf5,Re5+,Kg4,Re3,Rf3,Rhe8,Rxe3,Rxe3,g5,Bd2,Kh4,Rg3,g4,Bc3,Qe4,Re3,Qd5', 'Bf6+,Kh5,Re5+,Qxe5,Bxe5', 'https://lichess.org/training/JzhOE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzHWe', 'Rapid', 'Ondray', 1830, 'checkmate198', 1772, 'e4,c5,Nc3,Nc6,g3,Nf6,Bg2,e5,d3,Be7,Be3,d6,h3,O-O,Nge2,Ne8,O-O,f5,exf5,Bxf5,Nd5,Nf6,Nec3,Qd7,Kh2,Nb4,a3,Nbxd5,Nxd5,Nxd5,Bxd5+,Kh8,g4,Be6,Bg2,d5,f4,d4,Bd2,exf4,Bxf4,Bd6,Bxd6,Qxd6+,Kg1,Rxf1+,Qxf1,Rf8,Qe1,Bd5,Qd2,Qg3,Re1', 'Bxg2,Qxg2,Qxe1+', 'https://lichess.org/training/JzHWe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZIco', 'Rapid', 'centpourcent', 1803, 'intimak', 1741, 'e4,e5,Nf3,d6,Bc4,h6,d4,f6,dxe5,fxe5,Nxe5,dxe5,Bf7+,Ke7,Bd5,c6,Qh5,Be6,Bg5+,Nf6,Bxf6+,Kxf6,Bxe6,Kxe6,Qf5+,Kd6,Nc3,Qf6,O-O-O+,Kc7,Qh3,Bb4,Ne2,Qxf2,a3,Qxe2,axb4,Qxe4,Rhf1,Qxb4,Rf7+,Kb6,Qe3+,Qc5', 'Rxb7+,Kxb7,Qxc5', 'https://lichess.org/training/jZIco');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jziO0', 'Rapid', 'ahmadnaj', 1617, 'philidov', 1753, 'c4,Nf6,d3,e5,e4,d6,Nf3,Bg4,Be2,g6,Be3,Bg7,Qd2,O-O,Nc3,Nc6,Nd5,Ne7,Bh6,Nexd5,Bxg7,Kxg7,cxd5,Rc8,O-O,c6,dxc6,Rxc6,Rac1,Qd7,Ne1,Bxe2,Rxc6,Bxf1,Rc1,Bxg2,Nxg2,d5,exd5,Qxd5,Ne3,Qd4,Rc4,Qb6,Rb4,Qa5,a3,e4,Nc4,Qd5,dxe4,Qh5,e5,Ng4,f3,Nxe5,Nxe5,Qxe5,Rxb7,Rc8,Rxa7', 'Qc5+,Kg2,Qxa7', 'https://lichess.org/training/jziO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JZIun', 'Rapid', 'CONCEntrado', 1790, 'darayawush', 1780, 'b4,e5,Bb2,f6,d4,exd4,Bxd4,Bxb4+,c3,Ba5,e3,Qe7', 'Qh5+,g6,Qxa5', 'https://lichess.org/training/JZIun');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZJ6m', 'Rapid', 'erfan-eahsan', 2186, 'Tsukuru', 2245, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,exd4,Qxd4,Qxd4,Nxd4,Bd6,Nd2,Ne7,g3,c5,N4b3,Nc6,f4,f6,c3,O-O,O-O,Re8,Re1,b5,a4,Bb7,axb5,axb5,Rxa8,Bxa8,Na1,c4,Nc2,Bc5+,Kg2,g5,fxg5,fxg5,Nf3,g4,Nfd4,Nxd4,Nxd4,Rxe4,Rxe4,Bxe4+,Kf2,c6,Ke3,Bd5,Kf4,h5,Be3,Kh7,Kg5,Bf7,Kf6,Bg6,Ke6,Be4,Ke5,Bg2,Bg5,Kg6,Bd8,Ba7,Bc7,h4,Nf5,hxg3,hxg3,Bf2', 'Nh4+,Kf7,Nxg2,Bxg3+,Nf4', 'https://lichess.org/training/jZJ6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzjZK', 'Rapid', 'Weltmeister', 2011, 'venegeance', 1951, 'd4,g6,c4,c5,d5,d6,Nc3,Bg7,Nf3,Nf6,e4,Bg4,Be2,Nbd7,O-O,O-O,h3,Bxf3,Bxf3,Ne5,Be2,a6,a4,Ne8,f4,Nd7,Bd3,e6,dxe6,fxe6,Qe2,Qh4,Be3,Bd4,Bxd4,cxd4,Na2,Rxf4,Rxf4,Qxf4,Rf1,Qe5,Nb4,Nc5,Bc2,Nf6,Nd3,Qxe4,Qxe4,Ncxe4,Nf4,e5,Nd5,Nxd5,Bxe4,Ne3,Rf6,Rd8,Bxb7,Nxc4', 'Bd5+,Kg7,Rf7+,Kh6,Bxc4', 'https://lichess.org/training/JzjZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JZLIG', 'Rapid', 'nawafq8', 1756, 'ABRAHAMCEREZO', 1817, 'd4,g6,Nf3,Bg7,c4,d6,g3,Nf6,Bg2,O-O,O-O,Nbd7,h3,Rb8,Nc3,b6,Be3,Bb7,Qa4,a6,Rab1,c5,Rfd1,Qc7,dxc5,Nxc5,Bxc5,dxc5,b4,Nh5,Nd5,Bxd5,Rxd5,e6,Rd3,e5,bxc5,bxc5,Rxb8,Rxb8,Qxa6,e4,Rd1,exf3,Bxf3,Nxg3,fxg3,Qxg3+,Bg2,Bd4+,Kh1,Re8,Qc6,Rxe2,Qf3,Re1+,Rxe1,Qxe1+,Qf1,Qxf1+,Bxf1,Bc3,Bg2,f5,Bd5+,Kg7,Kg2,Kf6,Kf3,h5,a4,g5,Bc6,h4,Bd7,Ke5,Bc8,Bd2,Bd7,f4,Bc6,Kd4,Bb5,Ke5,Bc6,Kf6,Bd7,Ke5,Bc6,Kd4,Bb5,Kd3,Ba6,Kc2,Bb7,Kd1,Bc6,Ke1,Kg4,Kf2,Bf3,Ke3,Bc6,Kd3,Bb5,Ke4,Bc6+,Kd4,Bb5,Kc3', 'a5,f3,Kxf3', 'https://lichess.org/training/JZLIG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JZLIU', 'Rapid', 'boost_meister', 2369, 'Neustart', 2302, 'e4,e5,Nf3,Nc6,c3,Nf6,Qa4,d6,Bb5,Bd7,d4,a6,Bd3,Nxd4,Qd1,Nxf3+,Qxf3,Be7,O-O,O-O,Nd2,Bg4,Qg3,Qd7,h3,Be6,Rd1,Nh5,Qf3,Nf4,Bf1,Rab8,Nb3,Bxb3,axb3,f5,Bxf4,fxe4,Qxe4,Rxf4,Qxe5,Rbf8,Qd5+,Kh8,Rd2,c6,Qc5,R4f5,Qa7,c5,Rxa6,Qc8,Rb6,Bh4,Rxb7', 'Bxf2+,Rxf2,Rxf2', 'https://lichess.org/training/JZLIU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZlKh', 'Rapid', 'quaracique77', 2065, 'lord-bills', 1775, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,O-O,Nf6,Nxe5,Nxe5,d4,Nxe4,Re1,Qh4,dxc5,Qxf2+,Kh1,f5,Nc3,Qh4,Nxe4,fxe4,Qe2,Rf8,Bd2,Ng4,Qxe4+', 'Kd8,Qe7+,Qxe7,Rxe7,Kxe7', 'https://lichess.org/training/jZlKh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jzm1Q', 'Blitz', 'Bunk_Moreland', 2390, 'ElseKafka', 2422, 'e4,e5,Nf3,Nc6,d4,exd4,c3,d5,exd5,Qxd5,cxd4,Bg4,Nc3,Bb4,a3,Bxf3,axb4,Bxd1,Nxd5,O-O-O,Bc4,Bh5,b5,Nxd4,Rxa7,Nf6,Nxf6', 'Nc2+,Kf1,Rd1#', 'https://lichess.org/training/jzm1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JZmDJ', 'Rapid', 'MalcolmSutcliffe', 1776, 'jonah_nemiroff', 1711, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bd6,Nb5,Nxe4,Nxd6+,Nxd6,Bb3,O-O,d4,e4,Ng5,b6,h4,h6,Qh5,Nxd4,Bxf7+,Nxf7,Nxf7,Nxc2+,Ke2,Ba6+,Kd2,Nxa1,Nxd8,Rxf2+,Ke3,Be2,Qe8+,Rf8,Qxe4,Raxd8,Qd5+,Kh8,Kxe2,Rde8+,Kd2,c6,Qd4,c5,Qc3,Rf2+,Kd1,Nc2,Bxh6,Rxg2,Rh2', 'Re1+,Qxe1,Nxe1,Rxg2,Nxg2', 'https://lichess.org/training/JZmDJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZmiS', 'Rapid', 'joseigal', 1919, 'Samir87', 1959, 'c4,e5,Nc3,Nc6,g3,Bc5,Bg2,Nge7,e3,d6,Nge2,Be6,d4,Bxc4,dxc5,dxc5,O-O,Qxd1,Rxd1,Be6,b3,a6,Bb2,O-O,Nd5,Bxd5,Bxd5,Rad8,Bg2,f5,h4,Rd6,Rxd6,cxd6,Rd1,Rd8,Nc3,b5,Nd5,e4,Nxe7+,Nxe7,f3,exf3,Bxf3,g6,e4,Kf7,exf5,Nxf5,Bd5+,Ke7,Kf2,Rf8,Bf3,a5,Re1+,Kd7,Bg4,a4,Bxf5+,Rxf5+,Ke3,d5,Ke2,d4,Rf1', 'd3+,Kxd3,Rxf1', 'https://lichess.org/training/jZmiS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jzMwr', 'Rapid', 'WEIDMAM1976', 1786, 'GutoNicacio90', 1706, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,d3,e6,Nc3,Nf6,Bg5,Be7,Qd2,O-O,h3,Rb8,b3,d5,e5,d4,Ne4,c4,Nxf6+,gxf6,exf6', 'Bb4,Qxb4,Rxb4', 'https://lichess.org/training/jzMwr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JznD5', 'Blitz', 'Carl_Canio', 2280, 'HarolitoHL', 2043, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Qd2,O-O,O-O-O,c6,Bh6,Nbd7,h4,e5,dxe5,Nxe5,Bxg7,Kxg7,Qxd6,Qxd6,Rxd6,Be6,f3,Rfd8,Rxd8,Rxd8,Nh3,h6,Be2,b5,Nf4,Bc4,Bxc4,Nxc4,g3,g5,hxg5,hxg5,Nh5+,Nxh5,Rxh5,Kg6,Rh2,a5,b3,Ne3,Re2,Nf1,Rg2,b4,Nd1', 'Rxd1+,Kxd1,Ne3+,Ke2,Nxg2,Kf2,Nh4,gxh4,gxh4', 'https://lichess.org/training/JznD5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JZny9', 'Rapid', 'Kontrolor', 1966, 'dialvien', 1816, 'e4,e5,Nf3,Nc6,Bb5,Qf6,Nc3,Nge7,O-O,a6,Bc4,d6,Nd5,Nxd5,Bxd5,Ne7,Bb3,Bg4,h3,Bh5,g4,Bg6,d3,h6', 'g5,hxg5,Bxg5', 'https://lichess.org/training/JZny9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jznzY', 'Blitz', 'KevinHau', 1616, 'Hirschhauser', 1636, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Bc5,Bg5,h6,Bh4,g5,Bg3,Ng4,O-O,d6,Nc3,f5,exf5,Bxf5,Re1,Bd7,Ne4,Bb6,Qd2,Qe7,Bb3,O-O-O,a4,Nd4,Nxd4,Bxd4,c3,Bb6,a5,Ba7,h3,Nf6,Nxf6,Qxf6,Rad1,h5,d4,h4,Bh2,g4,dxe5,dxe5', 'Bxe5,Qxf2+,Qxf2,Bxf2+,Kxf2', 'https://lichess.org/training/jznzY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZOX6', 'Rapid', 'Fav0rit', 1832, 'Nishantshinde1616', 1948, 'e4,e5,d4,exd4,Nf3,Nc6,Nxd4,Bc5,Be3,Qf6,c3,b6,b4,Nxb4,cxb4,Bxb4+,Ke2,c5,Nc2', 'Ba6+,Qd3,Bxd3+', 'https://lichess.org/training/jZOX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzPaN', 'Rapid', 'Flavinho9696', 1882, 'Salah_hmdan', 1878, 'd4,d5,c4,e6,Nc3,c6,Bf4,Be7,e3,Nf6,Nf3,O-O,Be2,a5,h4,Nh5,Ne5,Nxf4,exf4,f5,h5,Bf6,h6,g6,Nxg6,hxg6,Bh5,Qe8,h7+,Kh8,Bf3,Qe7,g4,fxg4,Bxg4,c5,Qe2,Bxd4,Nxd5,Qg7,Bxe6,Bxe6,Qxe6,Nc6,O-O-O,Rae8,Qg4,Bxf2,Rh2,Bd4,Rg2,Re4,Qxg6,Qxg6,Rxg6,Nb4,Rxd4,cxd4,Nf6,Nd3+,Kd2,Nxf4', 'Rg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/JzPaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzPEL', 'Rapid', 'koSrec', 1913, 'kualalumpppur', 1816, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qe7,d4,c5,O-O,cxd4,Qxd4,Nf6,Bg5,Qd6,Qxd6,Bxd6,Bxf6,gxf6,Nc4,Bc5,Nc3,b5,Na5,Bb4,Nb3,Bxc3,bxc3,c5,Nxc5,a5,a4,bxa4,Nxa4,Ba6,Rfe1,O-O-O,Nb6+,Kb7,Reb1,Ka7,Rxa5,Rd6,Nc4,Rd7,Na3,Rhd8,Nb5+,Ka8,Rxa6+,Kb7,Ra7+,Kc6,Nd4+,Kc5,Rb5+,Kc4,Rxd7,Rxd7,Rh5,Kxc3,Nb5+,Kxc2,Rc5+,Kb3,Nc7', 'Rd1#', 'https://lichess.org/training/JzPEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZPSz', 'Rapid', 'CAB2LT', 1616, 'Lmil', 1627, 'Nf3,d5,g3,Nc6,d4,Bg4,Bg2,Bxf3,Bxf3,Nf6,Nc3,e6,O-O,Be7,Bf4,O-O,Nb5,Rc8,c3,a6,Na3,Bxa3,bxa3,Na5,Rb1,b5,a4,Qd7,axb5,axb5,Be5,Ne8,h4,Nc4,Bf4,c6,Qb3,Ned6,Rfd1,Nf5,a4,bxa4,Qxa4,Ra8,Qb4,Rfe8,e4,Ne7,e5,Nc8,Be2,N8b6,Qc5,Ra5,Qb4', 'Rb5,Qxb5,cxb5', 'https://lichess.org/training/jZPSz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzRRa', 'Rapid', 'smallman', 1628, 'toofan2020', 1614, 'e3,Nf6,b3,d5,Bb2,e6,Qe2,Bd6,Nc3,b6,O-O-O,Bb7,d4,Nc6,f4,Nb4,a3,Ba6,Qf2,Bxf1,Qxf1,Nc6,h3,Qe7,Nb5,Ne4,Qf3,a6,Nxd6+,Nxd6,Qg3,O-O,Nf3,Ne4,Qe1,Na7,g4,c5,f5,b5,h4,c4,Ng5,Nxg5,hxg5,cxb3,c3,Qxg5,Qg3,exf5,Qe5,Nc6,Qxd5,Na5,gxf5,Nc4,Rdg1,Qxe3+,Kb1,Qd3+,Ka1,Nxb2,Qg2,g6,fxg6,fxg6,Qd5+,Kh8,Qb7,h5', 'Rxh5+,gxh5,Qg7#', 'https://lichess.org/training/JzRRa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JZrV6', 'Rapid', 'vanet', 1702, 'Slachoo', 1709, 'e4,c5,Bc4,Nc6,Qh5,e6,Nf3,Nf6,Qh4,Be7,d3,Nb4,Bb3,Qa5,Bd2,b5,a3,c4,Bxb4,Bxb4+,c3,Bc5,d4,Be7,Bc2,Bb7,Qg3,O-O,O-O,Bxe4,Bxe4,Nxe4,Qg4,Nf6,Qh3,h6,Nbd2,Qc7,Ne5,d6,Ng4,Nxg4,Qxg4,e5,d5,Qb7,Qf3,Rac8,Qe4,Rc5,Nf3,Rxd5', 'Rad1,Rxd1,Qxb7', 'https://lichess.org/training/JZrV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JZTQ4', 'Classical', 'eRZGR06', 2034, 'prem_singh_bhati', 2014, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,e4,Nc6,Nf3,O-O,Be2,b6,O-O,Bb7,Qa4,a6,Nd1,b5,cxb5,axb5,Qb3,Nxd4,Nxd4,Qxd4,Ne3,Bxe4,Rfd1,Bd2,Nf1,Bd5,Qc2,c6,Qxd2,Qf6,a3,Bb3,Rdc1,Bd5,Rc3,b4,Rg3,bxa3,Raxa3,Rxa3,bxa3,Rb8,Bf3,Rb2,Qa5,g5,Qa8+,Kg7,h4,c5,hxg5,hxg5,Bxd5,Qxf2+,Kh2,Qxf1,Bf3,f6,Qa7,Kg6,Qxd7,Kf5,Bg4+,Kf4,Rf3+,Qxf3,Bxf3,g4,Qd6+,Kg5,Qxc5+,Kh4,Qc3', 'g3+,Kg1,Rb1+,Bd1,Rxd1+,Qe1,Rxe1#', 'https://lichess.org/training/JZTQ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzusK', 'Rapid', 'Mohamad688', 1811, 'kp1201', 1731, 'd4,d5,Nf3,Nf6,c4,dxc4,Nc3,e6,e4,Rg8,e5,Nd5,Bxc4,Nxc3,bxc3,Nc6,d5,exd5,Bxd5,Ne7', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/JzusK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jzWqh', 'Blitz', 'luluca', 1718, 'Sr_Jane', 1761, 'Nf3,Nf6,d4,e6,Bf4,b6,c4,Bb4+,Nc3,O-O,a3,Bxc3+,bxc3,d6,e3,Bb7,Be2,h6,h3,g5,Bg3,Ne4,Qc2,f5,Bh2,Nc6,O-O,Na5,Nd2,Nxd2,Qxd2,Nb3,Qc2,Nxa1,Rxa1,Qf6,Bd3,Kg7,f4,gxf4,exf4,Rg8,Re1,Kh8,Bf1,Rg7,Qe2,Rag8,g3,Rxg3+,Bxg3,Rxg3+,Kh2,Qh4,Qxe6,Rxh3+,Bxh3', 'Qf2+,Bg2,Qxg2#', 'https://lichess.org/training/jzWqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzwZV', 'Blitz', 'FM ZibbitVideos', 2434, 'ChessDoofus', 2221, 'd4,Nf6,Nf3,e6,Bf4,b6,e3,Bb7,h3,d6,Bd3,Be7,Bh2,Nbd7,O-O,c5,Re1,cxd4,exd4,O-O,c3,Re8,a4,Bf8,a5,a6,axb6,Qxb6,Qc2,d5,Nbd2,Rac8,Ne5,g6,Ndf3,Bg7,Qe2,a5,Bb5,Red8,Bg3,Nxe5,dxe5,Ne4,Bh4,Rf8,Be7,Rb8,Bxf8,Bxf8,Bd3,Bc5,Bxe4,dxe4,Ng5,Ba6,Qg4,Bxf2+,Kh1,Bxe1,Rxe1,Qf2,Rg1,Qf5,Qh4,h5,Nxe4,Qxe5', 'Nf6+,Kg7,Nd7', 'https://lichess.org/training/JzwZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JZXv1', 'Rapid', 'Killerqueen1945', 2014, 'RonaldoBryan', 1984, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,O-O,Bd3,Nbd7,Nge2,a6,O-O,c6,cxd5,Nxd5,Bxe7,Nxe7,f3,Nf6,e4,b5,e5,Nfd5,Ne4,Ne3,Qd2,Nxf1,Rxf1,Nd5,Nd6,f6,Nf4,Nxf4,Qxf4,fxe5,Qe4,Qxd6,dxe5,Qd5', 'Qxh7+,Kf7,Bg6+,Ke7,Qxg7+,Kd8,Qxf8+', 'https://lichess.org/training/JZXv1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Jzy01', 'Blitz', 'atreyu007', 1735, 'Mr_Miralem', 1698, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,a3,Bd6,Bg5,c6,Nf3,Bg4,Be2,Nbd7,h3,Bh5,g4,Bg6,Qd2,Qb6,O-O-O,O-O,Bxf6,Nxf6,Bd3,Ne4,Bxe4,dxe4,Ne5,Bxe5,dxe5,Rad8,Qe3,Qc7,f4,exf3,Qxf3,Qxe5,Rhe1,Qg5+,Kb1,Rxd1+,Rxd1,Qc5,h4,h6,g5,hxg5,hxg5,Qxg5,Qh3,Qf5,Qh2,Re8,Rh1,Bh7,Nd1,Re6', 'Qb8+,Re8,Qxe8#', 'https://lichess.org/training/Jzy01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('JzyVh', 'Rapid', 'Perrako', 1795, 'timmynipples', 1845, 'c4,e5,Nc3,c6,Nf3,d6,g3,Nd7,Bg2,Ne7,d3,g6,O-O,Bg7,b4,a6,Rb1,b5,cxb5,axb5,Qc2,Qb6,Be3,Qc7,Rfd1,f5,Qb3,Nb6,Rbc1,d5,Bc5,Be6,Qb2,e4,dxe4,Na4,Qb3,Nxc3,Rxc3,fxe4,Ng5,Qc8,Nxe6,Bxc3,Qxc3,Rg8,Nf4,Rxa2,Qe5,Qd7,Qb8+,Kf7,Qd6,Qxd6,Bxd6,g5,Nh3,Rxe2,Kf1,Rb2,Bc5,Ra8,Nxg5+,Ke8,Nxh7,Raa2,Nf6+,Kf7,Ng4,Nf5,h4,e3,Nxe3', 'Rxf2+,Kg1,Nxe3', 'https://lichess.org/training/JzyVh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZyWb', 'Classical', 'twinsister', 1831, 'Fraaaaancois', 1738, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb6,e5,Ne4,Bd5,Ba5+,Nbd2,Nxd2,Bxd2,Bxd2+,Qxd2,O-O,O-O,d6,Qf4,Ne7,Ng5,Nxd5,Qg3,h6,Ne4,dxe5,dxe5,Re8,Rad1,c6,Nf6+,Kh8,Nxe8,Qxe8,Rfe1,Be6,a3,Qe7,b4,a5,bxa5,Rxa5,Rb1,Rxa3,Rxb7,Qxb7,Qxa3,Qc7,Qd6,Qxd6,exd6,Kg8', 'Rxe6,fxe6,d7', 'https://lichess.org/training/jZyWb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('jZZvi', 'Rapid', 'Yusman123', 1974, 'mehmet9527', 2029, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,e5,Qd3,Be7,O-O,O-O,Nh4,h6,Bxf6,Bxf6,Nf5,Be7,Qg3,Bf6,Nxh6+,Kh7,Nf5,Bg5,f4,exf4,Rxf4,Bxf4', 'Qxg7#', 'https://lichess.org/training/jZZvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k03cO', 'Rapid', 'Robasop41', 2027, 'Bobi1960', 2160, 'Nf3,e6,c4,Nf6,Nc3,Be7,d4,d5,e3,O-O,Bd3,dxc4,Bxc4,c5,O-O,Qc7,Bb3,Nc6,Qe2,a6,dxc5,Bxc5,Bd2,Rd8,Rac1,b6,Rfd1,Bb7,e4,Ng4,h3,Nd4,Nxd4', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/k03cO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K064z', 'Classical', 'geraxion', 2121, 'Paulo2222', 2048, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Bb4,e3,h6,Bh4,O-O,f3,Nbd7,Bd3,e5,Ne2,e4,fxe4,dxe4,Bc2,Qe8,O-O,Ng4,Qc1,Bxc3,Nxc3,f5,h3,Ngf6,Nb5,Qd8,Rxf5,a6,Nc3,Nb6,Bxf6,Rxf6,Rxf6,Qxf6,b3,Bf5,Qd2,Re8,Rf1,Qg6,Kh1,h5,Rf4,Nd7,Qf2,Rf8,Bxe4', 'Bxe4,Nxe4,Qxe4,Rxe4,Rxf2', 'https://lichess.org/training/K064z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K07Ku', 'Blitz', 'dikshantdash12', 2046, 'FM Chernov_M', 2283, 'd4,d5,c4,Nc6,Nf3,Bg4,Nc3,e6,e3,Bb4,Bd3,Nf6,O-O,O-O,a3,Bxc3,bxc3,Ne4,h3,Nxc3,Qc2,Bxf3,Qxc3,Qg5,g3,Ne7,e4,Qh5,exd5,Qxh3,Bxh7+,Qxh7,Qxf3,exd5,cxd5,Qf5,Qxf5,Nxf5,Bb2,Rad8,Rae1,Rxd5,Re5,Rfd8,Rxd5,Rxd5,Rd1,f6,g4,Nd6,Kg2,Kf7,Kf3,Nc4,Bc1,c5,Ke4,Rxd4+,Rxd4,cxd4,Kxd4,Nd6,Kd5,Ke7,Bf4,Nf7,Bb8,a6,Kc5,Kd7,Kb6,Kc8,Bf4,Nd8,Bd6,Ne6,f4,Nd8,Bf8,Nf7', 'Bxg7,Nd6,Bxf6,Nc4+,Kc5,Ne3,g5', 'https://lichess.org/training/K07Ku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k07vA', 'Classical', 'antoniogj', 1897, 'Lucfelz', 2024, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Qf6,Nc3,Nge7,d3,g6,Bg5,Qd6,Qd2,b5,Bb3,h6,Be3,Nd4,Bxd4,exd4,Ne2,Bg7,O-O,O-O,Nh4,Qb6,f4,Bb7,Ng3,d5,e5,a5,a4,bxa4,Rxa4,Bc6,Raa1,a4,Ba2,Qxb2,Rfb1,Qc3,Qd1,Rfb8,Ne2,Qc5,Nf3,Nf5,Qd2,Ne3,Nexd4,Rxb1+,Rxb1,Nf5,Qb4,Qa7,Kf1,Bf8', 'Nxc6,Bxb4,Nxa7', 'https://lichess.org/training/k07vA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K0a8y', 'Blitz', 'PsoyKorolenko', 2313, 'FM Che4ako', 2408, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,Bd6,O-O,O-O,h3,f5,Bxc6,bxc6,d3,Qf6,Re1,Bb7,Nd2,c5,Qh5,e4,Nc4,exd3,cxd3,Bc6,Bg5,Qd4,Rad1,Qd5,f3,Rae8,Bh4,Bf4,Bf2,Rxe1+,Bxe1,Re8,Na5,g6,Qh4,Be3+,Bf2,Bxf2+,Qxf2,Ba8,Nb3,c4,Nc1,cxd3,Rxd3,Qa5,Rd2,Bc6,a3,Qb6,Qxb6,cxb6,Kf2,Kf7,Ne2,Re7,g4,fxg4,fxg4,Kg7,Kg3,Rf7,Nf4,Re7,Rd3,Kf7,Rc3,Bb7,h4,h6,h5,g5', 'Ng6,Rd7,Ne5+,Ke7,Nxd7', 'https://lichess.org/training/K0a8y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k0AFq', 'Rapid', 'hankpohan', 1750, 'SL1', 1760, 'd4,d5,c4,e6,Nf3,Nf6,e3,a6,Bd3,dxc4,Bxc4,b5,Bd3,c5,Nc3,c4,Bc2,Bb4,Bd2,O-O,a3,Ba5,Ne4,Bxd2+,Qxd2,Bb7,Neg5,h6,Nh3,Bxf3,gxf3,Nc6,Rg1,Nh5,Qe2,Qh4,Qf1,Rad8,Rg4,Qe7,Qg2,e5,O-O-O,exd4,Nf4,f5,Rg6,Nxf4,exf4,Rf6,Rg1,Rd7,Bxf5,Rxf5,Rxc6,Rf6,Rc8+,Kh7,f5,d3', 'Qg6+,Rxg6,fxg6#', 'https://lichess.org/training/k0AFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K0b4p', 'Rapid', 'mhmdkrimly', 1791, 'Johan_prasetyo', 1786, 'e4,c5,Nf3,e6,Nc3,Nc6,d4,Bd6,e5,cxd4,exd6,dxc3,bxc3,Nf6,Bd3,O-O,O-O,Qa5,c4,Ng4,Bxh7+,Kh8,Ng5,Nce5,Bb2,f6,h3,fxg5,hxg4,Kxh7,Re1,Nxc4,Qd3+,Kg8,Qxc4,b5,Re5,Qb6,Bd4', 'bxc4,Bxb6,axb6', 'https://lichess.org/training/K0b4p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k0B7j', 'Rapid', 'Kaygee1', 2126, 'SalamAmoudarengin', 2087, 'e4,d6,Nf3,g6,Bc4,Bg7,Ng5,Nf6,Nxf7,Qd7,Nxh8,Bxh8,d3,b6,Nc3,Bb7,Bb5,Nc6,d4,a6,Bxc6,Bxc6,d5,Bb7,O-O,O-O-O,b4,h5,Bb2,Nxe4,Nxe4,Bxb2,Rb1,Be5,c4,Qf5,Re1,e6,a4,exd5,cxd5,Bxd5,Qxd5', 'Bxh2+,Kxh2,Qxd5', 'https://lichess.org/training/k0B7j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K0D8S', 'Rapid', 'Highabetes', 1649, 'weiherhase', 1690, 'd4,d5,Nf3,c6,c4,e6,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,e3,Nd7,Bd3,h6,Qc2,O-O,O-O-O,a6,h4,Nb6,b3,dxc4,g4,cxd3,g5,hxg5,Qxd3,Nd5', 'hxg5,g6,gxf6', 'https://lichess.org/training/K0D8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K0dHZ', 'Blitz', 'angry_dude', 1881, 'Mogelfritz', 1902, 'e4,c5,Ne2,Nc6,Nbc3,d6,g3,Nf6,Bg2,h6,O-O,e6,d4,cxd4,Nxd4,a6,f4,Be7,Be3,Qc7,Kh1,O-O,Qe2,Rd8,Rad1,Na5,f5,e5,Nb3,b5,h4,Nc4,g4,Nxb2,g5,hxg5,hxg5,Nh7,f6,gxf6,gxf6,Bxf6,Rxf6,Nxf6,Bh6,Ng4,Nd5,Qa7,Qf3,Nxd1,Nf6+,Kh8,Nxg4,Bxg4', 'Qf6+,Kh7,Qg7#', 'https://lichess.org/training/K0dHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K0dWv', 'Rapid', 'SVK16', 2215, 'dragonneau', 2208, 'd4,e6,Nf3,Nf6,Bg5,d5,Nbd2,Be7,e3,Nbd7,Bd3,O-O,Ne5,Nxe5,dxe5,Nd7,Bf4,Nc5,Nf3,Nxd3+,Qxd3,c5,O-O,Bd7,e4,dxe4,Qxe4,Bc6,Qe3,Qb6,b3,Bxf3,Qxf3,Rfd8,Rfd1,h6,c4,Qc7,Rxd8+,Rxd8,Rd1,a6,Qe2,b5,Rxd8+,Qxd8,h3,Qa5,Qd2,Qxd2,Bxd2,b4,g4,Kh7,Kg2,g6,Kg3,h5,f4,Kg7,Kf3,Kh7,Ke4,hxg4,hxg4,Bf8,Be1,Be7,Bf2,Kh6,Be3,Kh7,Bc1,Kg7,a3,a5,a4,Kh7,Bb2,Kh6,Bc1,Kh7,Bd2,Kg7,Be3,Kh7,Bf2,Kg7,f5,gxf5+,gxf5,Kh6,Be3+,Kh5,Bf4,Kg4,fxe6,fxe6,Bh6,Kg3,Bg7,Kg4', 'Bf6,Bf8,Bd8', 'https://lichess.org/training/K0dWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K0gfM', 'Blitz', 'IM BadAsMe', 2465, 'Aston66', 1810, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be2,h5,O-O,Ng4,Bxg4,hxg4,Bf4,Qf6,Qc1,Be6,c3,Bd6,Bg3,Bxg3,fxg3,Qg6,Qf4,O-O-O,Nd2,Rxd3,Nb3,Qh5,Nc5,Qxh2+,Kf2,Rd6,e5,Rd5,Nxe6,fxe6,Rh1,Qxh1,Rxh1,Rxh1,Qxg4,Rxe5,Qxg7,Rf5+,Ke2,Rhf1,Qg8+,Kd7,Qg7+,Rf7,Qd4+,Kc8,Qxa7,R1f2+', 'Qxf2,Rxf2+,Kxf2', 'https://lichess.org/training/K0gfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K0Iwc', 'Rapid', 'Wojtaschess', 1815, 'lucky_21', 1892, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,h6,a3,Bxc3+,bxc3,d5,cxd5,Nxd5,c4,Nf6,e3,c5,Bb2,cxd4,exd4,Qa5+,Qd2,Qxd2+,Nxd2,O-O,Be2,b6', 'Bf3,Nc6,Bxc6', 'https://lichess.org/training/K0Iwc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K0Nt5', 'Blitz', 'Hussen_Ahmed', 1633, 'OZGGUNNYiLMAZ', 1623, 'd4,d5,Bf4,Nc6,e3,a6,Nf3,f6,Bd3,Bg4,Bg3,e5,Be2,e4,Nfd2,Bxe2,Qxe2,Bd6,Qh5+,g6,Qxd5,Bxg3,Qxe4+,Be5,dxe5,fxe5,Nc3,Nf6,Qh4,Qe7,Nf3,O-O-O,O-O,h5,Rad1,e4,Ng5,Ng4,Rxd8+,Rxd8,Ncxe4,Rd5,f4,Rxg5,Nxg5,Qxe3+,Kh1,Ne7,h3', 'Nf5,Qe1,Ng3+,Qxg3,Qxg3', 'https://lichess.org/training/K0Nt5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K0qtp', 'Blitz', 'kingbreaker', 2042, 'Ladongov', 2054, 'e4,e5,Nf3,f5,Nxe5,Nf6,Bc4,d5,exd5,Bd6,d4,O-O,O-O,a6,a4,Bd7,f4,c5,dxc5,Bxc5+,Kh1,Bd6,Nf3,Qc7,Qd4,Kh8,Bb3,a5,Nc3,Na6,Ne5,Nc5,Ba2,Rae8,Re1,Bxa4,Nxa4,b5,Nxc5,Bxc5,Qd1,Bf2,Re2,Ne4,d6,Qb6,d7', 'Ng3+,hxg3,Qh6#', 'https://lichess.org/training/K0qtp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K0U0B', 'Rapid', 'moparto', 1890, 'kissesim', 1887, 'e4,e5,f4,exf4,Nf3,g5,Bc4,d6,O-O,Be6,Bxe6,fxe6,d4,Nc6,e5,dxe5,dxe5,Qxd1,Rxd1,Be7,Nc3,Nh6,Nb5,Rc8,c3,a6,Nbd4,Nxd4,cxd4,O-O,h3,Nf5,a3,Rfd8,b4,b6,Bb2,c5,bxc5,bxc5,Rac1,cxd4,Rxc8,Rxc8,Kh2,Rc2,Bxd4,Bxa3,Nxg5,Bb2,Nxe6,Bxd4,Nxd4,Nxd4,Rxd4,f3,Rg4+,Kf7,Rf4+,Ke6,Rxf3,Kxe5,Ra3,Rc6,g4,Kd5,Kg3,Kc5,h4,Kb5,g5,a5,h5,a4,Kf4,Kb4,Ra1,a3,Kf5,Kb3,g6,hxg6+,hxg6,Kb2,Rg1,a2,g7,Rc8,Kf6,Rg8,Kf7,Ra8,Rg2+,Kc1', 'Rxa2,Rxa2,g8=Q', 'https://lichess.org/training/K0U0B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k0u52', 'Rapid', 'Superkraft', 2007, 'keralaking', 1991, 'd4,d5,c4,dxc4,Nf3,e6,e3,Nd7,Bxc4,Nb6,Bb3,Nf6,O-O,Be7,Nc3,Bd7,e4,O-O,Bc2,h6,Qd3,c5,e5,c4,Qe2,Nh7,Qe4,f5,exf6,Nxf6,Qe2,Nbd5,Ne5,Be8,Nxc4,Rc8,Bd3,Nb4,Be3,Nxd3,Qxd3,Ng4,h3,Nxe3,fxe3,Bf6,Ne4,Bg6,Nxf6+,Rxf6,Qb3,Be4,Ne5,Rc2,Nf3,Rg6,Rf2,Rxf2,Kxf2,Bxf3,gxf3,Qh4+,Ke2,Qxh3,Rf1,Rg2+,Rf2,b6,Qc4,Rxf2+,Kxf2,Qh2+,Kf1,Kf7,Qa4,Qc7,Kg2,g5,Qb5,Kg6,Qe8+,Qf7,Qc6,Qf6,b4,h5,b5,h4,a4,Qf5,Qe8+,Qf7,Qh8,Qc7,Qg8+,Kf6,Qf8+,Qf7,Qd6,Kg7,Qe5+,Qf6,Qc7+,Qf7,Qxf7+,Kxf7,Kh3,Kf6,Kg4,Kg6,e4,Kf6,Kh3,Kg6,f4,Kf6,Kg4,gxf4,Kxh4,f3', 'Kg3,f2,Kxf2', 'https://lichess.org/training/k0u52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k0UFo', 'Rapid', 's666', 1799, 'dctrip13', 1874, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ng5,d6,Bc4,Nh6,d4,Bg7,Bxf4,Nc6,Be3,O-O,O-O,Qe7,Nc3,Be6,d5,Na5,Be2,Bd7,Rb1,b6,Bd4,f6,b4,Nb7,Ne6,Bxe6,dxe6,Qxe6,Nd5,Rac8,Bd3,Nd8,Ne3,Nc6', 'Bc4,Qxc4,Nxc4', 'https://lichess.org/training/k0UFo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K0w1t', 'Rapid', 'Quasario', 1880, 'Panoramix22', 1923, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,c6,h3,Nf6,d3,Bf5,Bd2,e6,Be2,Be7,Nh4,Bg6,Nxg6,hxg6,Bg5,Nd5,Ne4,Qc7,Bxe7,Qxe7,a3,Nd7,c3,N7f6,Nxf6+,Nxf6,O-O,O-O-O,d4,e5,Qa4,Kb8,Rfd1,exd4,Bf3,d3,Qb3,Ka8,Rd2,Nd5,Rad1,Nf4,Qc4,Ne2+,Kh1,Qd7,Rxd3', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/K0w1t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k0wk8', 'Blitz', 'barissen', 1702, 'dranjohn', 1703, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,d3,h6,O-O,d6,Be3,Nd4,Bxd4,exd4,Ne2,O-O,Nexd4,d5,exd5,Nxd5,h3,Nf4,Ne2,Ng6,Ng3,c6,c3,Qc7,d4,Rd8,Qd3,Nf4,Qe4,Bd6,Rfe1,Bd7,Ne5,Ne6,Nf5,b5,Bb3,a5,a4,bxa4,Rxa4,c5,Raa1,cxd4,cxd4,Rab8,Bd5,Rxb2,Nxh6+,gxh6,Qg4+,Ng7,Bxf7+,Kh8,Ng6+,Kh7,Nf8+,Rxf8', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/k0wk8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k0y7J', 'Blitz', 'Chesssknock', 2505, 'Looseking', 1874, 'd4,Nf6,Nf3,d5,c4,c6,Nc3,e6,Bg5,Be7,e3,O-O,Bd3,h6,h4,dxc4,Bxc4,hxg5,hxg5,Nd5,Bd3,g6,Ne4,Kg7,Qe2,Nd7,O-O-O,c5,Rh3,Rh8,Rdh1,Rxh3,Rxh3,b6,Qf1,Bb7,Qh1,Qg8,Bb5,Rd8,Ng3,Nc7,Bd3,Bxf3,gxf3,Bxg5,f4,Be7,f5,exf5,Nxf5+,Kf6,Qc6+,Ne6,Nh6,Qe8,d5,Rc8,Qa4,Ng5,Qh4,Kg7,Nf5+,gxf5', 'Qh6+,Kg8,Qh8#', 'https://lichess.org/training/k0y7J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K10bX', 'Blitz', 'godhahn', 1746, 'GiantDole', 1743, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Bb4,Be3,Bxc3+,bxc3,Nge7,Bb5,O-O,O-O,f5,exf5,Nxf5,Nxf5,Rxf5,Bd3,Rf7,Qh5,h6,Qg6,d5,Bc5,Rf6,Qh7+,Kf7,Bd4,e5,Bc5,e4,Be2,Bf5,Bh5+,Bg6,Bxg6+,Rxg6,f3,Qg5,fxe4+,Ke6,exd5+,Kxd5,Qxg6,Qxg6,Ba3,Re8,Rad1+,Kc4,Rf4+,Kxc3,Rd3+,Kxc2,Rg3,Qe6,Rf2+,Kb1,Rb3+,Ka1,Bb2+,Kxa2', 'Ra3+,Kb1,Ra1#', 'https://lichess.org/training/K10bX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K10sJ', 'Rapid', 'Sfide_Mentali', 2108, 'OsamaTnt', 1631, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Nxc3,Qa5,Bc4,e6,O-O,Bb4,Nb5,a6,Nd6+,Ke7,Bg5+,f6,Nxc8+,Rxc8,Bf4,g5,Be3,Bc5,a3,Bxe3,fxe3,Qc5,Qe2,Nh6,b4,Qb6,Rad1,Ng4,Nd4,Nce5,Ba2,Rc7,h3,Nh6,Qh5,Nhf7,Kh1,a5,b5,Rc3,Nf5+,Kd8,Ng7,Ke7,h4,h6,Rf2,Rxa3,Rdf1,Qxe3,Bb1,Rb3,Qd1,Rxb5,Rxf6,gxh4,R6f2,Qg5,Nh5,Rxb1,Qxb1,Qxh5,Qa1,h3,g3,Rg8,Qa3+,d6,Rf4,Rxg3,Qxg3,Ng5,Rh4,Qg6,Rc1,Qxe4+,Kh2,Ngf3+,Kxh3,Ng5+', 'Qxg5+,hxg5,Rxe4', 'https://lichess.org/training/K10sJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K1181', 'Rapid', 'zlayk', 1752, 'rachid3', 1734, 'd4,Nf6,c4,d5,cxd5,Qxd5,Nc3,Qd8,e4,g6,Bg5,Bg7,Nf3,Bg4,Bb5+,c6,Be2,O-O,O-O,Nbd7,h3,Be6,Re1,Ne8,Qd2,Nb6,Bh6,Nc4,Bxc4,Bxc4,Rad1,Nf6,Bxg7,Kxg7,Qf4,Nh5,Qh4,f5,e5,f4,Ng5,Rf5,b3,Bg8,g4,Rxg5,Qxg5', 'h6,Qh4,g5,Qxh5,Bf7,Qxf7+,Kxf7', 'https://lichess.org/training/K1181');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K14cZ', 'Rapid', 'jona3', 1744, 'flaerty', 1759, 'e4,d5,Nc3,dxe4,Nxe4,Nc6,Bc4,Bf5,Ng3,e6,Nxf5,exf5,Nf3,Nb4,O-O,Qf6,Re1+,Be7,c3,Nc6,Bb5,O-O-O,d4,a6,Ba4,b5,Bc2,Na5,Ne5,Bd6,b4,Bxe5,bxa5,Bd6,Qf3,Ne7,Qa8+,Kd7,Qxa6', 'Bxh2+,Kxh2,Qxa6', 'https://lichess.org/training/K14cZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k14Nm', 'Rapid', 'mario21595', 1722, 'Atwan5', 1722, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Nxc6,bxc6,Bd3,d5,e5,Ng4,O-O,O-O,Bf4,Qh4,h3,Bxf2+,Kh1,Ne3,Bxe3,Bxe3,Qf3,Bd4,Ne2,Bxb2,Rab1,Bxe5,Ng1,Bg4', 'Qxg4,Qxg4,hxg4', 'https://lichess.org/training/k14Nm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K14PL', 'Blitz', 'malcomar', 1607, 'tjaalz', 1640, 'e4,d5,exd5,Nf6,Bc4,e6,dxe6,Bxe6,Bxe6,fxe6,Nf3,Qe7,O-O,Nbd7,d4,O-O-O,Nc3,g6,Re1,Qf7,Qe2,Re8,Ne5,Nxe5,Qxe5,Bg7,Qb5,Ng4,Be3,Rhf8,Qe2,Nxe3,Qxe3,h5,Re2,Qf5,Rae1,Rf6,Ne4,Rf7,Nc5,g5,Qb3,b6,Nxe6,Bxd4,Nxd4', 'Qxf2+,Rxf2,Rxe1+,Rf1,Rfxf1#', 'https://lichess.org/training/K14PL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K181Z', 'Classical', 'Saravananshanmugam', 1812, 'M_Aria', 2035, 'd4,d5,c4,e5,cxd5,Qxd5,dxe5,Qxd1+,Kxd1,Nc6,Bf4,Nge7,e4,Ng6,Ne2,Ncxe5,Bxe5,Nxe5,Nec3,Bg4+,Kc2,O-O-O,Nd2,Bc5,f3,Be6,Nb3,Be3,Be2,Bxb3+,Kxb3,Rd2,Rhd1,Rhd8,Rxd2,Bxd2,Rd1,Nc6,Bc4', 'Na5+,Kc2,Nxc4', 'https://lichess.org/training/K181Z');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 20;
-    }
-
-}
\ No newline at end of file
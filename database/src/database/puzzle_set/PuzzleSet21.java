@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet21 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k1aY7', 'Rapid', 'daisyquake', 1842, 'Ed025', 1968, 'e4,c6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nf3,Bf5,Nc3,e6,Bb5,Ne7,O-O,Bg4,h3,Bxf3,Qxf3,a6,Bxc6+,bxc6,b4,Qb6,Ne2,Qxb4,Be3,Nf5,Rfb1,Qc4,a4,Be7,a5,O-O,Rb6,Nxe3,fxe3,c5,Rc6,Qb4,dxc5,Bxc5,h4,Rfc8,Rxc8+,Rxc8,h5,Qb3,Nd4,Bxd4,exd4,Qxf3,gxf3,h6,Rb1,Rc6,Rb6,Rc4,Rxa6,Rxd4,Rb6,Ra4,a6,d4,Kf2,Ra5,f4,Kf8', 'Rb8+,Ke7,Rb7+,Ke8,a7', 'https://lichess.org/training/k1aY7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K1CPT', 'Rapid', 'ninjapariz', 1828, 'AlexanderBloxin', 1756, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,Nc3,Bb4,h3,d6,O-O,O-O,Nd5,Bc5,a3,Be6,b4,Bb6,Nxf6+,Qxf6,Ba2,Nd4,Nxd4,Bxd4,Bxe6,Bxa1,Bb3,Bd4,Be3,Bxe3,fxe3,Qe7,Qh5,Qg5,Bxf7+,Kh7,Qe2,Qe7,Bh5,Rxf1+,Qxf1,Rf8,Qe2,Qg5,Bg4,c6,Bf5+,g6,Bg4,h5,Bf3,b5,d4,exd4,exd4,Qc1+,Kh2,Qf4+,Kh1,Qc1+,Kh2,Qxa3,Bxh5,gxh5,Qxh5+,Kg7,Qg5+,Kf7,Qf5+,Ke7,Qg5+,Rf6', 'e5,dxe5,dxe5', 'https://lichess.org/training/K1CPT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K1CTv', 'Blitz', 'Viswak123', 1787, 'Vivek-anand', 1791, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,c3,d6,d4,exd4,cxd4,Ba7,Nc3,b5,Bc2,O-O,Bg5,h6,Bh4,Re8,Qd3,Nb4,Qd2,Nxc2,Qxc2,Bg4,Qd3,g5,Nxg5,hxg5,Bxg5,Re6,Qg3,Kf8,Bxf6,Qxf6,Qxg4,Bxd4,Rac1,c5,Nd5,Qd8,Rfd1,Bxb2,Rc2,Be5,Rcd2,Rc8,Ne3,Qf6,Nf5,Bd4,Nxd4,cxd4,Rxd4,Rc1,Rxc1,Qxd4,Rc8+,Ke7,Rc7+,Kd8,Rxf7', 'Qa1+,Qd1,Qxd1#', 'https://lichess.org/training/K1CTv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K1gZQ', 'Rapid', 'MvkCrisis_1', 1846, 'vine_mk', 1801, 'e4,e5,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Nf3,Be7,Nxe5,Nf6,Nxf7+,Ke8,Nxh8,Be6,Nc3,Nc6,Nb5,Kd7,Bf4,Rxh8,Nxc7,Nxe4,Nxe6,Kxe6,Bc4+,Kf5,Be3,Bf6,c3,Re8,O-O,Ne5,Bd5,b6,f4,Nd3,Rab1,Ndc5,h3,Ng3,Rfe1,Nd3,Kh2,Nxe1,Rxe1,Bh4,c4', 'Rxe3,Rxe3,Nf1+,Kg1,Nxe3', 'https://lichess.org/training/K1gZQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K1IGz', 'Rapid', 'GeorgeWBush', 1949, 'ahmetrasay', 1826, 'f4,e5,fxe5,f6,e4,Nc6,Nf3,fxe5,Bc4,Nf6,d3,d6,Ng5,d5,exd5,Bg4,Qd2,Nd4,d6,Bh5,c3,Nc6,dxc7,Qxc7,Na3,a6,O-O,O-O-O,Kh1,Bd6,Ne6,Qe7,Nxd8,Rxd8,Qg5,Bg6,Be3,e4,d4,Bc7,Rae1,Bf7,Bf4,Bxc4,Nxc4,Rd5,Ne5,h6,Qf5+,Kb8,Nxc6+,bxc6,Bxc7+,Qxc7,Qf4,Qxf4,Rxf4,Kc7,Kg1,Kd6,g4,c5,dxc5+,Kxc5,Rf5,Rxf5,gxf5,Kd5,b3,Ke5,c4,Kxf5,h3,Ke5,Kf2,Kd4,Rc1,Nd7,c5,Nxc5,Rc4+,Kd5,Ke3,g5,Rxc5+', 'Kxc5,Kxe4,Kb4', 'https://lichess.org/training/K1IGz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K1Kvg', 'Rapid', 'spoint', 1637, 'yaroniko', 1601, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,Bb4+,c3,dxc3,bxc3,Bc5,d4,Bb6,O-O,a6,Bc4,d6,Qf3,Qf6,Qxf6,Nxf6,Re1,O-O,e5,dxe5,Rxe5,Ng4,Re7,Bf5,h3,Nf6,Nd2,Rae8,Ba3,Rxe7,Bxe7,Re8,Bxf6,gxf6,g4,Bd7,a4,Kg7,a5,Ba7,Rb1,b6,axb6,Bxb6,Bxa6,Re2,Nc4,Rc2,Nxb6,cxb6,Rxb6,Rxc3,Rd6,Rc6,Rxd7,Rxa6,d5,Kf8,Rb7,Rd6,Rb8+,Kg7,Rb5,Kg6,Kg2,f5,Kf3,fxg4+,hxg4,f5,Kf4,fxg4,Ke5,Rf6,d6', 'Rf5+,Ke6,Rxb5', 'https://lichess.org/training/K1Kvg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K1OCB', 'Classical', 'Tarraschh', 1953, 'fredrook2018', 1821, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,a6,Qd2,g6,Bd3,Bg7,f4,O-O,O-O-O,Nb4,Be2,Qa5,Nb3,Nxa2+,Nxa2,Qxa2,h4,Be6,Qd3,Rac8,Kd2,Bc4,Qd4,Ng4,Qxc4,Rxc4,Bxc4,Nxe3,Kxe3,Qxb2,Bd3,b5,h5,Qc3,hxg6,hxg6,Ra1,e5,g3,exf4+,gxf4,f5,Rxa6,fxe4,Kxe4,Re8+,Kf3,Qf6,Rg1,Bh6', 'Rxg6+,Qxg6,Bxg6', 'https://lichess.org/training/K1OCB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k1qcL', 'Rapid', 'Comes_Paulus', 1937, 'teodoraboric', 1905, 'e4,e5,Nc3,Bb4,Nd5,Bc5,b4,Bd4,c3,Bb6,Nxb6,axb6,Bc4,Nf6,d3,c6,Nf3,Qe7,O-O,O-O,Re1,h6,Qc2,b5,Bb3,d6,d4,exd4,cxd4,Nh7,Bf4,Bg4,Qd3,Nd7,Bc2,g5,e5,f6,exf6,Qf7,Bxd6,Rfe8,Ne5,Nxe5,dxe5,Be6,Qg6+,Qxg6,Bxg6,Bf7,Bxh7+,Kxh7,a3,Kg6,Re3,Be6,h3,Kf7,g4,Rh8,Kg2,h5,Kg3,h4+,Kg2,Ra4,f3,Rha8,Kf2,Bd5,Rc3,Ke6,Ke3,Bc4,f4,gxf4+,Kxf4,Rg8,g5,Raa8,Rg1,Rg6,Rd1,Rag8,Rg1,Kf7,Be7,Ke6,Rcc1,Ra8,Rc3,Bd5,Kg4,Kf7,Kxh4,Rh8+,Kg4,Be6+,Kf4,Rh4+,Kg3', 'Rxh3+,Kf2,Rxc3', 'https://lichess.org/training/k1qcL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K1ryb', 'Blitz', 'sbarbier', 1882, 'nonnetrovouno', 1958, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,Be3,Nf6,Bd3,Bg4,Qd2,Na6,a3,Nc7,f3,Bh5,g4,Bg6,h4,Bxd3,Qxd3,Bd6,O-O-O,Ne6,Nge2,Qc7,Qd2,O-O-O,f4,Nxg4,Rhg1,h5,f5,Nxe3,Qxe3,Nf4,Rxg7,Nxe2+,Qxe2,Rde8,Qg2,Qa5,Nb1,Bf4+,Nd2,Bxd2+,Rxd2,Re1+,Rd1,Rhe8,Rg8', 'Rxd1+,Kxd1,Qe1#', 'https://lichess.org/training/K1ryb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K1SXP', 'Rapid', 'ALFILx', 2014, 'jonny_69', 1635, 'e4,c5,b4,cxb4,d4,e6,f4,Nc6,Nf3,a6,Bd3,Nxd4,Nxd4,Qb6,Nf3,d5,e5,Be7,Qe2,Nh6,Be3,Qa5,O-O,O-O,Nbd2,Ng4,Nb3,Qd8,Kh1,Nxe3,Qxe3,b5,Qf2,Bb7,Nbd4,Bc5,Qh4', 'Qxh4,Nxh4,Bxd4', 'https://lichess.org/training/K1SXP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k1y2Z', 'Blitz', 'Bachbach', 1772, 'JohnyFischer', 1790, 'e4,e5,f4,exf4,Nf3,h6,Bc4,d6,O-O,g5,d4,Nf6,Nc3,Bg7,e5,dxe5,Nxe5,O-O,Bxf4,gxf4,Rxf4,Nbd7,Ng6,Re8,Qd3,c6,Raf1,Nb6,Bxf7+,Kxf7,Ne5+,Kg8,Qg6,Rf8,Ne4,Nxe4', 'Rxf8+,Qxf8,Rxf8+,Kxf8,Qf7#', 'https://lichess.org/training/k1y2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k23Bc', 'Rapid', 'Erasyl2008_pro', 1893, 'MadiRai', 2001, 'f4,d5,b3,Nf6,Bb2,g6,Nf3,Bg7,e3,O-O,Be2,c5,O-O,Nc6,Bb5,Bd7,Qe1,a6,Bxc6,Bxc6,d3,e6,Nbd2,d4,e4,Ng4,Qg3,Ne3,Rfc1,f5,e5,Nd5,Ng5,Qe7,Nc4,Bh6,h4,Bxg5,hxg5,Bb5,Nd6,Rad8,Ba3,b6,Nxb5,axb5,Kf2,b4,Bb2,Ne3,Qf3,Qd7,a3,Ra8,axb4,Rxa1,Bxa1,cxb4,Bxd4', 'Ng4+,Kg3,Qxd4', 'https://lichess.org/training/k23Bc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k24xo', 'Rapid', 'karamuratbenim', 1658, 'Iggz', 1860, 'e4,e5,d4,d5,exd5,Qxd5,Nf3,Nc6,c3,Bg4,Be2,O-O-O,Be3,exd4,cxd4,Bb4+,Nc3,f6,O-O,Bxc3,bxc3,h5,Nh4,Bxe2,Qxe2,Nge7,Rfd1,g5,Nf3,Nf5,Nd2,Nxe3,Qxe3,Rhe8,Qg3,h4,Qg4+,f5,Qh5,Rh8,Qe2,g4,Qc4,Rhe8,Qxd5,Rxd5,Nc4,Re2,Kf1,Rc2', 'Ne3,Rxc3,Nxd5', 'https://lichess.org/training/k24xo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K254s', 'Blitz', 'dimm555', 2036, 'BatataMilitar', 1680, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Be6,Bxe6,fxe6,O-O,Qe7,fxe5,Nxe5,Nxe5,dxe5,Qh5+,g6,Qxe5,O-O-O,Qxh8,Qc5+,Kh1,Qc4,Re1,Bc5,Nc3,Nh6,Qxh7,Ng4,h3,Nf2+,Kh2,Bd6+,e5,Qf4+,g3', 'Ng4+,hxg4,Qf2+,Kh3,Qxe1', 'https://lichess.org/training/K254s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2AIS', 'Rapid', 'Myfavoritegame', 1604, 'FranzKalta', 1678, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nb4,Qe4,c6,a3,b5,Bb3,Na6,f4,Nc5,Qxe5+,Kf7,Bxd5+,cxd5,Nxd5,Be6,Nc7,Bd6,Nxe6,Bxe5', 'Nxd8+,Raxd8,fxe5', 'https://lichess.org/training/k2AIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K2AuA', 'Blitz', 'KaitoKid1412', 2108, 'ELOYCCPLL', 2204, 'f4,d5,Nf3,Nf6,e3,g6,Be2,Bg7,O-O,c5,d3,O-O,Ne5,Nc6,Nxc6,bxc6,Qe1,Re8,Bf3,e5,e4,exf4,Bxf4,dxe4,dxe4,Nxe4,Bxe4,Qd4+,Kh1,Rxe4,Qd2,Ba6,Nc3,Rxf4,Qxf4,Bxf1,Qxf1,Rb8,Rd1,Qh4,g3,Qg4,Qd3,Rxb2,Ne4,Rb8', 'Qd8+,Rxd8,Rxd8+,Bf8,Nf6+,Kg7,Nxg4', 'https://lichess.org/training/K2AuA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2BKy', 'Rapid', 'zar21', 1890, 'hoseingolkarfar', 1941, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Nf6,d3,Be7,Bd2,d5,exd5,exd5,Bb5,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,a6,Ba4,b5,Bb3,h6,a3,a5,Be3,Nxb3,cxb3,d4,Bxd4,Qxd4,Nxb5,Qxb2,Rb1,Qe5,Re1,Qb8,a4,Bd6,Nxd6,Qxd6,Rc1,Rfd8,Rc3,Nd5,Rc1,Nb4,Re3,Nxd3,Rc3,Nb4', 'Re8+,Rxe8,Qxd6', 'https://lichess.org/training/k2BKy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2c7F', 'Rapid', 'Khaldi_smail94', 1692, 'Erno46', 1736, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,Na5,Bb5,c6,Ba4,b5,Bc2,d5,b4,dxe4,dxe4,Qxd1+,Bxd1,Nc4,Bc2,Bg4,Nbd2,Bd6,O-O,O-O,h3,Bd7,Nxc4,bxc4,Ba4,a5,Rd1,Be7,bxa5,Rxa5,Bc2,g5,h4,g4,Nh2,Nh5,Bxh6,Rfa8,Rxd7,Rxa2,Rxa2,Rxa2,Bd1,g3,fxg3,Bc5+,Kf1', 'Nxg3+,Ke1,Bf2#', 'https://lichess.org/training/k2c7F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K2DzI', 'Classical', 'CapoeiraPlaymobil', 1704, 'dadi8010', 1758, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Nc3,a6,a4,O-O,O-O,Nbd7,f4,Re8,f5,Ne5,Bb3,Bd7,Bf4,Nc6,Nf3,Bf8,Qd3,Nb4,Qc4,d5,exd5,b5,axb5,Nbxd5,bxa6,c6,Ne5,Qb6+,Kh1,Re7,Nxd7,Rxd7,h3,Bd6,Bxd6,Rxd6,Nxd5,Nxd5,f6,Nxf6,Qxf7+,Kh8,Rae1,Rd7,Re8+,Rxe8', 'Qxe8+,Nxe8,Rf8#', 'https://lichess.org/training/K2DzI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2eJz', 'Blitz', 'salgadao', 1849, 'frehos', 1847, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Be7,Bd3,O-O,O-O,f6,Qe1,cxd4,Bxd4,fxe5,fxe5,Nxd4,Nxd4,Nc5,Rxf8+,Bxf8,Qg3,Nxd3,cxd3,Qb6,Ne2,Bc5,Qf4,Qxb2,Rf1,Bxd4+,Nxd4,h6,Qf8+,Kh7,Nxe6,Qxe5,Nc5,d4,Ne4,b6,Qf7,Be6,Qb7,Bd5,Nf6+,Qxf6,Qxd5,Qd8,Qe4+,Kh8,Rf7,a5,Qb7,Rb8,Qa7,Qg8,Qd7,Rc8,h3,Rc1+,Kh2,Qb8+,g3,Rc2+,Kh1,Qxg3', 'Rf8+,Kh7,Qf5+,Qg6,Rh8+,Kxh8,Qxg6', 'https://lichess.org/training/k2eJz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K2Fnu', 'Classical', 'agmchess', 1910, 'clown887', 2006, 'Nf3,Nf6,c4,g6,Nc3,Bg7,g3,O-O,Bg2,d6,O-O,e5,d4,Nc6,d5,Ne7,e4,Nh5,Ne1,f5,f3,f4,g4,Nf6,Nd3,g5,c5,Ng6,Bd2,h5,h3,hxg4,hxg4,Kf7,Rc1,Rh8,Nb5,a6,Na3,Bf8,Nc4,Be7,Ba5,Qd7,cxd6,Bxd6,Nxd6+,Qxd6,Bxc7,Qe7,d6,Qe6,Nc5,Qxa2,d7,Bxd7,Nxd7,Qxb2,Nxf6,Kxf6,Qd6+,Kf7,Bb6,Rae8,Rc7+,Re7,Rxe7+,Nxe7,Bc5,Re8,Rd1,Qe2,Qd2,Qb5,Qd6,Qe2,Rb1,b5,Ra1,a5,Qh6,Rg8,Qh7+,Rg7,Qh5+,Ng6,Rxa5', 'Qe1+,Bf1,Qxa5', 'https://lichess.org/training/K2Fnu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K2ifs', 'Classical', 'Flasharry', 1680, 'rabahmost', 1653, 'e4,e5,f4,Nc6,Nf3,Bc5,Nc3,Nf6,Bc4,h6,Nxe5,Nxe5,fxe5,Nxe4,Bxf7+,Kxf7,Rf1+,Kg8,Qf3,Qh4+,g3,Nxg3,hxg3,Qd4,Nd5,Qxe5+,Kd1,c6', 'Qf7+,Kh7,Nf6+,Qxf6,Rxf6', 'https://lichess.org/training/K2ifs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2jGQ', 'Rapid', 'bikal', 1678, 'NOOBlol123', 1673, 'e4,g6,d4,Bg7,Be3,d6,Qd2,Nf6,Nc3,O-O,Bh6,Nc6,Bxg7,Kxg7,Nf3,e5,O-O-O,Bg4,h3,Bxf3,gxf3,exd4,Ne2,Re8,Nxd4,Nxd4,Qxd4,Qe7,h4,Qe5,Bc4,Qf4+,Kb1,Qxf3,h5,Qxe4', 'h6+,Kf8,Qxf6', 'https://lichess.org/training/k2jGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K2k8R', 'Rapid', 'tairel12', 1986, 'mdrabbu', 1965, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c6,Bg5,Nbd7,e3,Qa5,Qc2,Bb4,a3,Ne4,Rc1,Bxc3+,bxc3,Qxa3,cxd5,exd5,Be2,O-O,O-O,Qd6,Bf4,Qe6,c4,Ndf6,h3,h6,Rb1,Nh5,Bh2,Qg6,Ne5,Qg5,f4,Qh4,Nf3,Qf6,Ne5,Nhg3,Rf3,Nxe2+,Qxe2,Nc3,Qb2,Nxb1,Qxb1,Bf5,Qb4,Be4,Rg3,dxc4,Nd7,Qe6,Nxf8,Rxf8,Qc3,b5', 'd5,Qg6,Rxg6', 'https://lichess.org/training/K2k8R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2Kv6', 'Blitz', 'Leszqq', 1584, 'Gengenharia', 1549, 'c4,e5,Nc3,Nf6,g3,Bc5,Bg2,c6,e3,O-O,Nge2,Bb4,O-O,Na6,d4,d6,a3,Ba5,d5,c5,e4,Bg4,f3,Bh5,Bg5,h6,Bd2,Qd7,Qe1,Nh7,f4,exf4,Nxf4,Bg4,h3,Nf6,hxg4,Qxg4,Bh3,Qg5,Ne6,Qe5,Nxf8,Kxf8,Bf4,Qd4+,Kh1,Qxc4,Bxd6+,Kg8,Qe3,Bxc3,bxc3,Nxe4,Bf5,Ng5,Rfe1,Qxd5+,Kg1,Nf3+,Kf2,Nxe1,Rxe1,Qxd6,g4,Qh2+,Kf3,Kf8', 'Qe7+,Kg8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/k2Kv6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K2L4T', 'Rapid', 'ante52', 1811, 'Aleksandr80', 1877, 'c4,e5,Nc3,Bc5,Nf3,d6,d3,Nf6,Bg5,h6,Bh4,g5,Bg3,Nc6,e3,Bb4,h3,e4,Nd4,Nxd4,exd4,Bf5', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/K2L4T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2l8t', 'Rapid', 'StefanhoYRADA7519_02', 1729, 'AngeloOrencioRegala', 1733, 'c4,d5,d4,Bf5,Nc3,e6,a3,c6,Nf3,Nf6,Bg5,Be7,Bxf6,Bxf6,cxd5,exd5,e3,O-O,Be2,Bg4,O-O,Qd7,b4,Qf5,Nh4,Bxh4,Bxg4,Qg6,Bf3,Nd7,g3,Nb6,e4,Rac8,exd5,cxd5,Nxd5,Nxd5,Bxd5,Rfd8,Bxb7,Rc7,Qf3,Rxd4,Rae1,Rd8,Re5,Bf6,Be4,Qh6,Rh5,Qd2,Bxh7+,Kf8,Be4,Rc1,Rh8+,Ke7,Rxc1', 'Qxc1+,Kg2,Rxh8', 'https://lichess.org/training/k2l8t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2nfM', 'Classical', 'behnam_2020', 1712, 'cetonek', 1640, 'e4,d5,e5,Nc6,d4,f6,Nf3,Bg4,Bb5,Qd7,Bf4,a6,Bxc6,Qxc6,O-O,O-O-O,Na3,h5,h3,g5,Bxg5,Bxf3,Qxf3,fxg5,Qf5+,e6,Qxg5,Bxa3,bxa3,Qxc2,Qg7,Nh6,Rfc1,Nf5,Qxh8', 'Qxc1+,Rxc1,Rxh8', 'https://lichess.org/training/k2nfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2pDy', 'Rapid', 'walteramundo', 1649, 'JOEFIVE2', 1764, 'e4,e5,Nf3,Bc5,d4,exd4,Nxd4,Qf6,Be3,Nc6,c3,Nxd4,cxd4,Bb4+,Nc3,Nh6,e5,Qh4,a3,Bxc3+,bxc3,Ng4,g3,Nxe3,fxe3', 'Qe4,Qe2,Qxh1', 'https://lichess.org/training/k2pDy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K2qTx', 'Rapid', 'wieczorar', 1698, 'AnatoniusZ', 1765, 'd4,e6,Bf4,d5,e3,c5,c3,Nc6,Bd3,Qb6,Qb3,c4,Qxb6,axb6,Bc2,b5,a4,b4,cxb4,Bxb4+,Nc3,Nf6,Ne2,O-O,O-O,Ne7,Nb5,Bd7,b3,Bxb5,axb5,c3,Ra4,Rxa4,bxa4,Rc8,Rb1,Ba5,b6,Ne4,Rb5,Nc6,Bc7,Nd2,Rc5,Nc4', 'Rxc6,bxc6,b7', 'https://lichess.org/training/K2qTx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K2tDv', 'Blitz', 'TorTel', 1513, 'mathmanprophesy', 1512, 'e4,c5,Nf3,d6,Bc4,e6,O-O,Nc6,Bb5,Bd7,d3,a6,Bxc6,Bxc6,Be3,Be7,Nc3,Nf6,Bg5,Nd7,Bxe7,Qxe7,Qd2,Ne5,Nxe5,dxe5,Qe3,b6,Qg3,O-O,a4,Qd6,a5,b5,Ne2,f5,exf5,exf5,f3,f4,Qg5,h6,Qh4,Kh7,c3,b4,cxb4,cxb4,Rfd1,Bb5,Nc1,g5,Qf2,Qd4,Qxd4,exd4,Nb3,Rfd8,Rac1,Be8,Rc7+,Kg8,Nc5,Bb5,Ne6,Re8,Ng7,Re3,Nf5,Rxd3,Rxd3,Bxd3,Nxd4,Re8,Rb7', 'Re1+,Kf2,Rf1#', 'https://lichess.org/training/K2tDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K2tz3', 'Blitz', 'Shahrisabz', 2270, 'PesteBubonica', 2235, 'e4,e6,d4,d5,exd5,exd5,Bd3,h6,h3,Nf6,Nf3,Bd6,O-O,O-O,Re1,Nbd7,Ne5,c5,c3,b6,Nd2,Bb7,Ndf3,cxd4,cxd4,Rc8,Nxd7,Qxd7,Ne5,Bxe5,dxe5,Ne4,f3,Nc5,Bb1,Qe6,Qd4,f6,Bf4,fxe5,Bxe5,Qf7,b4,Ne6,Qd3,g5,Bc2,Rc4,Rad1,Rfc8,Bb1,Rxb4,Ba1,Nf4,Qd2,Rbc4,Be5,Ng6,Qd3,Nxe5,Rxe5,Rc1,Ree1,Rxd1,Qxd1,Re8,Rxe8+,Qxe8,Qd3,Qe7,Qg6+,Kf8,Qxh6+,Ke8,Qg6+,Kd8,Kf2,Qc5+,Kg3,Qc7+,Kg4', 'Qf4+,Kh5,Qh4#', 'https://lichess.org/training/K2tz3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K2uJR', 'Rapid', 'doc_haggag', 1896, 'x1007', 1920, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Ng4,d4,cxd4,cxd4,Qa5+,Nc3,Qb6,Na4,Qb4+,Bd2,Ngxe5,Bxb4,Nxf3+,Qxf3,Nxb4,Qb3,e6,Nc5,Nd5,Bc4,Nb6,O-O,Nxc4,Qxc4,Be7,f4,O-O,f5,d5,Qd3,exf5,Nb3,b6,Rae1,Be6,Qf3,Rac8,Rc1,Bg5,Rxc8,Rxc8,h3,h6,g4,fxg4,hxg4,a5,a4,Rc4,Qd1,Rxa4,Rf3,Bxg4,Qd3,Bxf3,Qxf3,g6,Qxd5,Rb4,Kg2,Kg7,Kf3,a4,Na1,Rxb2,Qc4,b5,Qc3,Rb1,Nc2', 'Rb3,Qxb3,axb3', 'https://lichess.org/training/K2uJR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2wtj', 'Rapid', 'CelestialTeapot', 1833, 'sythnzngn65', 1820, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Qf6,d4,Qxf3,gxf3,exd4,cxd4,d6,Nc3,Be6,Nd5,O-O-O,Be3,Ne7,Nxe7+,Bxe7,Bxe6+,fxe6,Rc1,Rdf8,Ke2,Rf7,Rc2,Rhf8,Rhc1,c6,d5,exd5,exd5,c5,b4,b6,bxc5,bxc5,Rb2,Rf5,Rcb1,Rxd5,Rb8+,Kd7,R8b7+,Ke6,Rxa7,h6,Rbb7,Bf6,a4,Re5,f4,Re4,a5,d5,Rb6+,Kf5,Rd7,d4,Rd5+,Kg4,Rxc5,dxe3', 'f3+,Kxf4,fxe4', 'https://lichess.org/training/k2wtj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2xCJ', 'Rapid', 'Alphafish2020', 1780, 'tonysaade12', 1729, 'Nf3,d6,g3,Nf6,Bg2,g6,O-O,Bg7,Re1,O-O,d3,c5,Nbd2,Nc6,c3,Qb6,e4,Ng4,h3,Nf6,e5,dxe5,Nxe5,Nxe5,Rxe5,Ng4,Rxe7,Ne5,Nf3,Qd6,Bg5,f6,Rxg7+,Kxg7,Be3,Nxf3+,Qxf3,Qxd3', 'Bh6+,Kxh6,Qxd3', 'https://lichess.org/training/k2xCJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k2xri', 'Blitz', 'Rahman666', 1590, 'GulinPL', 1578, 'e4,c5,Nc3,Nc6,Nf3,g6,Bd3,Bg7,Nd5,e6,Ne3,Nge7,c3,O-O,Qc2,a6,O-O,b5,b3,Bb7,Bb2,Ne5,Nxe5,Bxe5,f4,Bg7,e5,Qb6,Be4,Rac8,Bxb7,Qxb7,Rf3,Rfd8,Qd1,Nd5,Nxd5,Qxd5,d3,c4,dxc4,Qxd1+,Rxd1,bxc4,b4,Ra8,Rd6,Kf8,Rf1,h5,Rfd1,Ke7,a4,Ra7,Ba3,Ke8,a5,Bf8,R6d4,Rc7,Re4,Rc6,Rdd4,Rdc8,h3,d6,exd6,Bxd6,Re1,Kd7,Red1,Ke7,Bb2,f5,Re1,Kf6,Rdd1,e5', 'Rxd6+,Rxd6,fxe5+,Kf7,exd6', 'https://lichess.org/training/k2xri');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k37ew', 'Rapid', 'ivar0331', 1611, 'jeddeh', 1609, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Nc3,Bc5,d3,d6,O-O,a6,a4,Ba7,Bg5,h6,Bh4,g5,Bg3,h5,Nxg5,O-O,Nd5,Bg4,Qd2,Nd4,Nxf6+,Qxf6,c3,Ne6,Nxe6,fxe6,h3,h4,Bh2,Bh5,Kh1,Kh8,f4,Qg7,f5,exf5,Rxf5,Rxf5,exf5,Rf8,Be6,Bf7,Qe2,Qg5,Bxf7,Rxf7,Rf1,Kg7,Qg4,Qxg4,hxg4,Kf6,g3,Kg5,gxh4+,Kxg4,Kg2,Kxh4,Bg3+,Kg5,f6,Rxf6', 'Bh4+,Kxh4,Rxf6', 'https://lichess.org/training/k37ew');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K3aN4', 'Classical', 'Joenoch', 1616, 'RU_722', 1661, 'd4,c5,dxc5,Nc6,Nf3,e5,e3,Bxc5,c4,Nf6,Nc3,a6,Nd5,O-O,b4,Nxb4,Ba3,Nfxd5,cxd5,d6,Rb1,b5,Bxb4,a5,Bxc5,dxc5,Nxe5,b4,Nc6,Qd6,Be2,Bb7,Bf3,Bxc6,dxc6,Qe5,O-O,Rfd8,Qb3,a4,Qc4,Ra7,Qh4,g5,Qg3,Qg7,c7,Rc8,Qd6,Rcxc7,Qd8+,Qf8,Qxf8+,Kxf8,Rfd1,Ke7,g3,f5,Rd2,g4,Bd5,Rd7,Rbd1,Rd6,Bf7', 'Rxd2,Rxd2,Kxf7', 'https://lichess.org/training/K3aN4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3Cvq', 'Rapid', 'kabazitrum', 1784, 'a9650289856', 1771, 'e4,e6,d4,d5,Nc3,c6,Nf3,Nf6,Bd3,Na6,e5,Nd7,Be3,Nb4,O-O,Nxd3,cxd3,a6,Rc1,b5,Ne2,Qb6,Nf4,Bb7,Ng5,g6,Qf3,Bh6,Nfxe6,Bxg5,Qxf7+,Kxf7,Nxg5+,Ke7,f4,h6,Nf3,Raf8,g3,a5,Nh4,Rhg8,f5,g5,Ng2,h5,f6+,Ke6,h4,gxh4,Nf4+,Kf7,e6+,Ke8,f7+,Rxf7', 'exf7+,Kxf7,Nxd5+,Ke8,Nxb6', 'https://lichess.org/training/k3Cvq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3cY0', 'Rapid', 'PashkaPetrovich', 1787, 'Solace97', 1806, 'e4,c6,d4,d5,exd5,cxd5,c3,Bf5,Nf3,e6,Bf4,Nc6,Nbd2,Bd6,Bxd6,Qxd6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,Na5,a4,Nxb3,Qxb3,bxa4,Rxa4,O-O,Rfa1,Rfb8,Qa2,Bd3,b4,Bb5,Ra5,h6,Ne5,Rc8,Qb2,Nd7,Nxd7,Qxd7,Rc1,Rc7,Nb3,Rac8,Nc5,Qd6,Rca1,Rc6,g3,Ra8,Qd2,e5,f4,exf4,Qxf4,Qxf4,gxf4,Kh7', 'Rxb5,axb5,Rxa8', 'https://lichess.org/training/k3cY0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3Dgh', 'Classical', 'pawn9i', 1604, 'Dudubreno', 1642, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,d5,d3,O-O,Bxc6,Nxc6,exd5,Qxd5,c4,Qd6,Nc3,Rd8,Ne4,Qe7,Nxc5,Qxc5,Be3,Qe7,Qe2,Bg4,h3,Bh5,Rad1,Rd7,Qc2,Bxf3,gxf3,Nd4,Bxd4,Rxd4,Rfe1,Qg5+,Kh2,Rh4,Re4,Re8,Rg1', 'Rxh3+,Kxh3,Qxg1', 'https://lichess.org/training/k3Dgh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3DVg', 'Rapid', 'pouki9', 1806, 'ojikoi', 1616, 'd4,d5,e3,c6,c4,e6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,Ne7,Ne5,O-O,Bd3,f5,g4,Nd7,gxf5,Nxe5,dxe5,exf5,Qh5,Be6,c5,b6,Nf3,bxc5', 'Ng5,h6,Nxe6', 'https://lichess.org/training/k3DVg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K3DZs', 'Blitz', 'Lubji', 1985, 'serg1951', 1973, 'd4,d5,Nf3,c6,h3,e6,e3,Nf6,Bd3,Bd6,Nbd2,Qc7,e4,dxe4,Nxe4,Nxe4,Bxe4,Nd7,Bg5,Bf4,Bxf4,Qxf4,Qe2,Nf6,Bd3,O-O,O-O,b6,c3,Bb7,Ne5,Rad8,Ba6,Ba8,Rad1,Nd7,Nd3,Qf5,Ne1,c5,Nc2,cxd4,Nxd4,Qd5,f3,Qxa2,Bc4,Qa5,Nxe6,Rfe8,Nxd8,Rxe2,Bxe2,Qc5+,Kh1,Qe7,Bb5,Ne5,Rfe1,g6,f4,Qh4,fxe5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/K3DZs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3E3a', 'Rapid', 'yungbeezee', 1513, 'arski67', 1563, 'e4,d6,d4,Nf6,Bg5,Nxe4,Bh4,g6,f3,Nf6,Qe2,e5', 'dxe5,dxe5,Qxe5+,Be7,Bxf6', 'https://lichess.org/training/k3E3a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3ejN', 'Rapid', 'narasimhaprasad', 1636, 'CarpeDiem12358', 1772, 'e4,c5,Nf3,e6,c3,a6,d4,d5,e5,Nc6,Be2,Nge7,Be3,Nf5,O-O,Nxe3,fxe3,Be7,Nbd2,O-O,c4,cxd4,exd4,Bd7,cxd5,exd5,Nb3,b6,Qc2,Nb4,Qd2,a5,a3,Na6,Rac1,Nc7,Qc2,Ne6,Qd3,Nf4,Qe3,Nxe2+,Qxe2,Ba4,Nbd2,Rc8,Qa6,Ra8,Qb7,Bg5,Rc7,Bxd2,Nxd2,Qg5,Rcxf7,Bc2,Nf3,Qe3+,Kh1,Rxf7,Qxa8+,Rf8,Qxd5+,Kh8,h3,Be4,Qd6,Rg8,e6,h6,e7,b5,Ne5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/k3ejN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K3idV', 'Rapid', 'ToxicKnight777', 2033, 'yamanb', 1881, 'e4,e5,g3,Nf6,Bg2,Bc5,Ne2,d6,O-O,O-O,c3,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,d4,exd4,cxd4,Bxd4,Qxd4,Bxe2,Re1,Bg4,e5,Nc6,Qxg4,Nxe5,Qd1,Qh4,Nc3,Ng4,Qd4,Qh2+,Kf1,Qh4,Bf4,g5,Bg3', 'Nh2+,Bxh2,Qxd4', 'https://lichess.org/training/K3idV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3kdJ', 'Blitz', 'varchenko', 1824, 'ttzz', 1898, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Ne7,Re1,Ng6,c3,Be7,d4,b5,Bc2,O-O,Nbd2,Bg4,Nf1,Qc8,d5,Nd8,Ng3,Nh4,Qd3,Bxf3,gxf3', 'Qh3,Qf1,Nxf3+,Kh1,Qxh2#', 'https://lichess.org/training/k3kdJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3mtK', 'Classical', 'Shef67', 1626, 'Vall777', 1663, 'e4,e5,f4,exf4,Nf3,Be7,g3,fxg3,hxg3,d5,Nc3,Be6,d4,Bb4,Bd2,Bxc3,Bxc3,dxe4,Ne5,Nf6,Qe2,Qd5,Bg2,Nc6,Rh4,Nxd4,Bxd4,Qxd4,Bxe4,Qxe5', 'Bc6+,bxc6,Qxe5', 'https://lichess.org/training/k3mtK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3OUc', 'Rapid', 'Ta82', 2042, 'Egor2012', 2001, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Nxd4,Nxd4,Qxd4,Be6,Bd3,c5,Qc3,Nf6,Bg5,Be7,O-O,O-O,Nd2,Ng4,Bf4,Bf6,Qa3,Ne5,Bxe5,dxe5,Qxc5,Rc8,Qxa7,Ra8,Qe3,Rxa2,Rxa2,Bxa2,b3,Qa5,Nc4,Qc3,f4,exf4,Rxf4,Bg5,e5,Bxf4', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/k3OUc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3Pma', 'Rapid', 'Pasha_Onegin', 2061, 'bambang_cdr', 1656, 'd4,e6,c4,Nf6,Nf3,c5,d5,d6,Nc3,exd5,cxd5,Bg4,h3,Bxf3,exf3,Be7,Bc4,O-O,O-O,a6,a4,Nbd7,Qb3,Ne5,Be2,Qc7,Ne4,c4,Qd1,b5,Bf4,Ng6,Bg3,Rab8,Nxf6+,Bxf6,Qc2,bxa4,Rxa4,Rxb2,Qxc4,Qxc4,Bxc4,Ra8,Rxa6,Rxa6,Bxa6,Rb6,Bd3,Ne7,Re1,g6,Be4,Bc3,Rc1,Bb4,Rc7,Nf5,Rc8+,Kg7,Bh2,Bc5,g4,Nd4,Kg2,Rb2,Rxc5,dxc5,d6,Ne6', 'Be5+,Kf8,Bxb2', 'https://lichess.org/training/k3Pma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3Poc', 'Classical', 'mgkvpanes1', 1674, 'eliezer0427', 1675, 'e4,Nf6,e5,Nd5,Bc4,Nb6,Na3,d6,Nf3,Nc6,d4,e6,O-O,dxe5,Bb5,exd4,Nxd4,Bxa3,bxa3,Bd7,Nxc6,bxc6,Bd3,O-O,a4,Nxa4,Qg4,Nc5,Bh6,g6,Bxf8,Qxf8,Rab1,e5,Qc4,Nxd3,cxd3,Qd6,Rfe1,Re8,Rb7,a5,a4,Ra8,g3,c5,Reb1,Qc6,Rb8+,Rxb8,Rxb8+,Kg7,Qe4,Qe6,Kg2', 'Bc6,Qxc6,Qxc6+', 'https://lichess.org/training/k3Poc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K3rZj', 'Rapid', 'UrizK', 2058, 'baselsaleh', 1655, 'f4,Nc6,e4,e5,d3,Bd6,f5,Nf6,Nf3,b6,a3,h6,c4,Bb7,h3,Nd4,b4,Nxf3+,Qxf3,O-O,Be3,c5,bxc5,Bxc5,Nc3,Bxe3,Qxe3,d6,Be2,Nh7,O-O,Qg5,Qf2,a6,Rab1,Rab8,Rxb6,Qd2,Nd5,Bxd5,Rxb8,Rxb8,cxd5,Rb2,Re1,Ng5,Kf1,Qa5,Ra1,Qc3,Qe1,Qd4,Rb1,Rxb1,Qxb1,a5,Qb8+,Kh7,Qxd6,Qa1+,Kf2,Qd4+,Ke1,Qc3+,Kf2,Qd4+,Kg3', 'Qe3+,Kh2,Qxe2', 'https://lichess.org/training/K3rZj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K3SCZ', 'Rapid', 'denis-chess', 1771, 'pianica', 1884, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d3,Bc5,Be2,d6,h3,h6,O-O,Be6,Re1,Qd7,Bf1,g5,Nh2,g4,h4,g3,Re2,gxh2+,Kxh2,Ng4+,Kg1,Nd4,Rd2,O-O-O,a3,Rdg8,b4,Nf3+,Qxf3,Bd4,Bb2,Qe7,g3,Nxf2,Rxf2,Qxh4,Ne2,Bg4,gxh4', 'Bxf3+,Kh2,Bxf2', 'https://lichess.org/training/K3SCZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3t3V', 'Rapid', 'DanilKirov07', 2090, 'Irodenko', 1865, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,b6,cxd5,Nxd5,Bxe7,Nxe7,Be2,Bb7,Bf3,Nbc6,Nge2,O-O,a3,Na5,Bxb7,Nxb7,O-O,c5,dxc5,Nxc5,b4,Nd7,Ra2,Qc7,Rd2,Nf6,Nb5,Qc6,Nbd4,Qc7,h3,Rfd8,Nb5,Rxd2,Nxc7,Rxd1,Rxd1,Rc8,Nb5,a6,Nd6,Rc2,Nf5,Kf8', 'Rd8+,Ne8,Nd6', 'https://lichess.org/training/k3t3V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3TNU', 'Rapid', 'Productive_Potato', 1699, 'Ragesh', 1721, 'd4,g6,e3,Bg7,Bd3,d5,c3,Nf6,Nd2,O-O,f4,Nc6,Ngf3,Bg4,O-O,a5,a3,b6,h3,Be6,Ne5,Nxe5,fxe5,Ne4,Bxe4,dxe4,Nxe4,Bd5,Ng5,Qc8,e4,Bc4,Re1,b5,Qg4,Qxg4,hxg4,a4,Bf4,h6,Nf3,g5,Be3,e6,Rad1,Bb3,Rd2,Bc4,d5,exd5,exd5,Rad8,d6,cxd6,exd6,Rfe8,d7,Re7,Bxg5', 'Rxe1+,Nxe1,hxg5', 'https://lichess.org/training/k3TNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3vNE', 'Blitz', 'CM HrvojeZagreb', 2254, 'hod-konem96', 2266, 'd4,c5,d5,Nf6,Nc3,e6,e4,exd5,exd5,d6,Bf4,a6,a4,Be7,Be2,O-O,Nf3,Bg4,Nd2,Bxe2,Qxe2,Re8,O-O,Nbd7,Nc4,Qc7,Qf3,Nb6,Ne3,Nbd7,Nf5,Bf8,Rfe1,Ne5,Bxe5,dxe5,Rad1,Qd7,a5,Bd6,g4,e4,Nxe4,Nxe4,Rxe4,Rxe4,Qxe4,Re8,Qf3,Bc7,d6,Bxa5,Qd5,Bb6,c4,Ba7,Ne7+,Kh8,Qxf7', 'Qxg4+,Kf1,Qxd1+', 'https://lichess.org/training/k3vNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k3WP1', 'Blitz', 'GM luci087', 2549, 'IM BeepBeepImAJeep', 2863, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,g6,Nc3,Bxa6,Nf3,d6,g3,Bg7,Bg2,O-O,Rb1,Nbd7,O-O,Qa5,Bd2,Rfb8,Qc2,Ne8,b3,Nc7,Rfe1,Nb5,Nxb5,Qxb5,Bc3,Bxc3,Qxc3,Nf6,Nd2,Qb4,Qxb4,Rxb4,Bf3,Bb7,a4,Nxd5,Rbc1,Nc7,Bxb7,Rxb7,e4,f6,f4,Ne6,Rc3,Nd4,e5,Kf7,exd6,exd6,Ree3,Re8,Rxe8,Kxe8,Kf2,Kd7,Ke3,Kc6,Kd3,d5,g4,Rb4,Ke3,Ne6,Kf2,Rxf4+,Kg3,Rd4,Nf3,Re4,Nd2,Re2,Nf3,d4,Rc4,Re3,b4,Kd5,Rc1,c4,Kf2,Rb3,b5,Nf4,Rd1,Nd3+,Kg3,Ke4', 'Nd2+,Ke3,Nxb3', 'https://lichess.org/training/k3WP1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K409R', 'Blitz', 'mc_siker', 2135, 'Tsukuru', 2200, 'Nf3,Nf6,c4,g6,b3,Bg7,Bb2,O-O,e3,d6,d4,c5,d5,e6,dxe6,Bxe6,Bd3,d5,O-O,dxc4,bxc4,Nc6,a3,Qc7,Qc2,Rad8,Nc3,a6,Rac1,b6,Rfd1,Rd7,Ne4,Nxe4,Bxe4,Rfd8,Rxd7,Rxd7,Bxg7,Kxg7,Bxc6,Qxc6,Ne5,Qc7,Nxd7,Qxd7,Rd1,Qc6,Qc3+,f6,f3,Kf7,e4,Qa4,Rd6,b5,cxb5,axb5,Qxc5,g5,Qc7+,Kg6,Rxe6,Qd4+,Kf1,Qd3+,Kf2,Qd2+,Kg3', 'Qe1+,Kh3,Qh4#', 'https://lichess.org/training/K409R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K441c', 'Rapid', 'NightGriffin', 1726, 'Antoine1410', 1629, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Re8,O-O-O,a5,g4,a4,a3,Nc6,h4,d5,Nxc6,bxc6,e5,Nd7,f4,Nb6,g5,Qc7,h5,c5,Nb5,Qc6,hxg6,fxg6,Qh2,Kf7,Qf2,d4,Bd2,Rh8,Bc4+,Kf8,Nxd4,cxd4,Qxd4,Qxc4,Qd8+,Kf7,Qxb6,Bf5,Bc3,Rab8,Qd4,Qc6', 'e6+,Ke8,Qxg7', 'https://lichess.org/training/K441c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k4571', 'Blitz', 'pitrossian', 2127, 'FM virapo', 2292, 'd4,Nf6,Nf3,c5,e3,g6,c4,Bg7,Nc3,O-O,Bd3,d6,O-O,b6,a3,Bb7,b4,Re8,Rb1,Nbd7,Re1,e5,dxe5,dxe5,e4,Rc8,Nd5,h6,b5,Nf8,Bb2,N6d7,h3,Ne6,a4,Nd4,Bc3,Bxd5,exd5,f5,Nxd4,cxd4,Bb4,e4,Bf1,Nc5,Bxc5,Rxc5,Qd2,d3,Red1,Rxc4,d6,Qxd6,Re1,Rc2,Qd1,Bd4,Kh1,Bxf2,Bxd3,Bxe1', 'Bc4+,Rxc4,Qxd6', 'https://lichess.org/training/k4571');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k46dr', 'Rapid', 'SuperSayanPsycho', 1916, 'franok', 2083, 'c4,c5,Nf3,Nc6,g3,Nf6,Bg2,g6,O-O,Bg7,Nc3,O-O,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,b3,Ng4,Qd3,Bf5,e4,Ne5,Qd2,Bg4,f3,Bd7,Bb2,Qc8,Rad1,Bh3,Nd5,Nc6,Rf2,Bxg2,Rxg2,Bxb2,Qxb2,Re8,b4,Ne5,f4,Nxc4,Qc3,b5,Rc1,Qb7,a4,a6,a5,Qa7+,Kh1,Rac8,Qf3,Qd4,Rd1,Qa7,h4,Kg7,f5,Rf8', 'f6+,exf6,Qxf6+', 'https://lichess.org/training/k46dr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K4CWr', 'Rapid', 'mossyoaktree', 2092, 'mihrovk', 2191, 'e4,c5,Nc3,g6,f4,a6,Nf3,Bg7,d3,b5,a3,e6,g3,Ne7,Bg2,d5,O-O,d4,Ne2,O-O,Nh4,Bb7,f5,exf5,exf5,Bxg2,Kxg2,Nd5,Nf4,g5,Nxd5,Qxd5+,Qf3,Qxf3+,Nxf3,h6,Bd2,Re8,Rae1,Nc6,h4,f6,hxg5,fxg5,Nh2,Bf6,Ng4,Kg7,Rh1,Rxe1,Rxe1,h5', 'Nxf6,Kxf6,Re6+,Kxf5,Rxc6', 'https://lichess.org/training/K4CWr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K4DnW', 'Blitz', 'GrandmotherK', 2159, 'dmtrij_GM', 2080, 'c4,e6,Nc3,Nf6,e4,e5,Nf3,Nc6,d3,Bc5,Be3,Bb6,c5,Ba5,Be2,d6,O-O,O-O,a3,Bxc3,bxc3,Ng4,cxd6,Nxe3,dxc7,Nxd1,cxd8=Q,Rxd8,Rfxd1,f6,h3,Be6,Rab1,b6,d4,Bf7,Bb5,Na5,dxe5,Bc4,exf6,Rxd1+,Rxd1,Bxb5,fxg7,Kxg7,Rd6,Rc8,Nd4,Ba4,Nf5+,Kf7,Rh6,Rxc3,Rxh7+,Kf6,Rxa7,Rxa3,g4,Nc6,Ra6,Ne5,Rxb6+,Kg5,Kg2,Ra1,Ng3,Bd1,Re6,Bf3+,Kh2,Nd3,Nf5,Nf4,Re8', 'Rh1+,Kg3,Rxh3#', 'https://lichess.org/training/K4DnW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k4E2C', 'Rapid', 'MRX81', 1863, 'Jupiii', 1832, 'e4,e6,Nf3,Nf6,e5,Ne4,d3,Nc5,Nc3,d5,d4,Ncd7,a3,c5,Be3,cxd4,Bxd4,Nc6,Bb5,Nxd4,Nxd4,a6,Bxd7+,Bxd7,f4,Qh4+,g3,Qh3,Qd2,Be7,O-O-O,b5,Na2,Rc8,Qa5,Ra8,Nb4', 'Bd8,Qxa6,Rxa6', 'https://lichess.org/training/k4E2C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K4f71', 'Rapid', 'mantri123', 1811, 'WillianLauber', 1725, 'd4,c6,Nf3,d6,e3,Qc7,c4,Bg4,h3,Bh5,Nc3,Nd7,Be2,e5,O-O,Ngf6,d5,Be7,e4,Bg6,Qc2,cxd5,cxd5,Nxd5,Qd2,Nxc3,Qxc3,Qxc3,bxc3,Bxe4,Ba3,Bxf3,Bxf3,Rb8,Rab1,b6,Rfd1,Nc5,Bxc5,dxc5,Bc6+,Kf8,Rd7,a5,Rbd1,Bf6,Rc7,g6', 'Rdd7,Kg7,Rxf7+,Kh6,Rxf6', 'https://lichess.org/training/K4f71');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K4fKe', 'Rapid', 'satverma123456', 2152, 'man53', 2202, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,d6,Nc3,Be6,Bb5+,Bd7,Qg4,Bxb5,Nxb5,Nf6,Qf3,Qa5+,Nc3,Be7,O-O,O-O,Bd2,Qc7,Bg5,Rfe8,Rad1,a6,Rfe1,b5,e5,dxe5,Bxf6,Bxf6,Nd5,Qd8,b3,Bg5,c4,Rc8,Qg4,Bh6,f4,e4,f5,Qg5,Qh3,bxc4,bxc4,Rb8,f6,gxf6,Re3,Kh8', 'Rg3,Bg7,Rxg5', 'https://lichess.org/training/K4fKe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k4fmy', 'Blitz', 'sp2021', 2127, 'Player1365', 2113, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,c5,dxc5,Qa5,Bd3,Qxc5,Qe2,Bg4,Be3,Qa5,O-O,O-O,h3,Bxf3,Qxf3,Nc6,Qf2,Nd7,Nd5,e6,Nc3,Bxc3,bxc3,Qxc3,f5,exf5,exf5,Nce5,Rad1,Rac8,Bd4,Nxd3,cxd3,Qc6,Qh4,Ne5,f6,Kh8,Rf4,Rg8', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/k4fmy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k4K75', 'Rapid', 'asuranceturix550', 1739, 'Adhvaith0404', 2197, 'e4,c5,c3,Nf6,f3,d5,e5,Nfd7,d4,cxd4,cxd4,e6,f4,Nc6,Nf3,Nb6,Bb5,Bb4+,Bd2,O-O,Bxc6,Bxd2+,Qxd2,bxc6,O-O,Ba6,Rc1,Nc4,Qf2,Rb8,b3,Na5,Nc3,Nb7,Na4,Bb5,Nc5,Nxc5,Rxc5,a5,Rac1,a4,b4,f6,a3,fxe5,Nxe5,Qf6,g3,g5,Nd7,Qg7,Nxb8,Rxb8,fxg5,Rf8,Qe3,Qf7,h4,Qf5,R1c2,Qf1+,Kh2,Qf5,Rc1,Bf1,Re1', 'Qh3+,Kg1,Qg2#', 'https://lichess.org/training/k4K75');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K4lZB', 'Bullet', 'MordsMordreas', 1853, 'linrek', 1821, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,g3,O-O,Bg2,dxc4,Ne5,c6,O-O,Qc7,Nxc4,Nd5,e4,Nxc3,bxc3,b5,Bf4,Qd7,Ne5,Qd8,d5,cxd5,exd5,Bb7,dxe6,Bxg2,exf7+,Kh8,Qh5,Be4,Rad1,Qb6,Bg5,Bxg5,Qxg5,Nc6,Rd6,Rad8,Rxc6,Bxc6', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/K4lZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K4lzK', 'Rapid', 'francekonjar', 1609, 'CrocoDan', 1710, 'e4,e5,f4,Bc5,Nf3,exf4,d4,Bxd4,Qxd4,Nf6,Nc3,Nc6,Qd1,O-O,Bxf4,d6,Bd3,Nh5,Bg5,f6,Bh4,g5,Bf2,g4,Nh4,Ne5,Nf5,Nf4,Nh6+,Kh8,Nxg4,Nxg2+,Kf1,Bxg4,Qd2,Nf3,Qh6,Rg8,Kxg2,Rg6,Qe3,Qd7,Kf1,Bh3+,Ke2,Bg2,Rhg1,Nxg1+,Bxg1,Qg4+,Kd2,Re8,Qf2,f5,exf5,Qg5+,Kd1', 'Bf3+,Qxf3,Qxg1+', 'https://lichess.org/training/K4lzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K4sRe', 'Rapid', 'olivier2020', 1829, 'Lovechess26', 1959, 'e4,e5,Nf3,Nc6,Bc4,g6,d3,h6,Nc3,Bg7,Be3,Nf6,O-O,O-O,Qd2,Ng4,h3,Nxe3,fxe3,d6,Nh2,Na5,Bb3,Nxb3,axb3,a6,Qf2,f5,exf5,Bxf5,Qe2,Qe7,e4,Be6,Nf3,g5,Nd5,Qd7,Ne3,c6,Nh2,d5,exd5,cxd5,Rxf8+,Rxf8,Rf1,e4,Rxf8+,Bxf8,Qd2,Bc5,dxe4,dxe4,Qxd7', 'Bxe3+,Kf1,Bxd7', 'https://lichess.org/training/K4sRe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K4urp', 'Rapid', 'IDontLikeChess_xD', 1678, 'The__Bodhisattva', 1675, 'd4,Nf6,c3,e6,c4,b6,Nf3,Bb7,e3,d5,Nc3,Bb4,a3,Be7,cxd5,exd5,Bd3,O-O,O-O,c5,Qc2,c4,Be2,Re8,b3,cxb3,Qxb3,a5,Rb1,Nbd7,Ne5,Nxe5,dxe5,Nd7,Nxd5,Nxe5,Nxe7+,Rxe7,Qxb6,Rb8,Qd4,Qc7,Bb2,f6,Rfc1,Qd7,Qb6,Kh8,Qxa5,Rc8,f4,Nc6,Qb6,Re6,Rd1,Qe7,Bc4,Rxe3,Bd4,Nxd4,Rxd4,Re8,Qxb7', 'Re1+,Rxe1,Qxe1+,Bf1,Qe3+,Kh1,Qxd4', 'https://lichess.org/training/K4urp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K4z8p', 'Rapid', 'Trefli', 2003, 'Sfide_Mentali', 1976, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,O-O,e4,d5,e5,Nfd7,cxd5,exd5,Bd3,c5,a3,Ba5,Bd2,cxd4,Nxd5,Nxe5,Be4,Re8,b4,Bb6,Nxb6,axb6,Ne2,Qh4+,g3,Qh3,Kf2,Nbc6,Qc2,d3,Bxd3,Nxd3+,Qxd3,Bf5,Qc3,Rxe2+,Kxe2,Qg2+,Ke3,Re8+,Kf4,Qh3,g4,g5+,Kxf5,Re5+,Qxe5,Nxe5,Kxe5,Qxf3,Rhd1,Kg7,Bxg5,f6+,Bxf6+,Qxf6+,Ke4,Qg6+,Kf3,Qc6+,Kg3,Kg6,Rac1,Qf6,Rf1,Qe5+,Kg2,Qb2+,Kh3,Qxa3+,Kh4,Qxb4,Rce1,Qd6,h3,b5,Rf3,b4,Rfe3,Qd8+,Kg3,Qc7+,Kg2,b3,R1e2,Qc6+,Kf2,Qc4,Rb2', 'Qf4+,Ke2,Qh2+,Kd3,Qxb2', 'https://lichess.org/training/K4z8p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k4zQg', 'Blitz', 'edivillela', 1864, 'topological', 1783, 'd4,d5,c4,c6,Nc3,Nf6,f3,Bf5,Bg5,e6,e3,Be7,Bd3,Bxd3,Qxd3,O-O,Nge2,Nbd7,O-O,c5,e4,dxe4,fxe4,cxd4,Nxd4,Ne5,Qd1,Bc5,Ne2,Nc6,Be3,e5,Nf5,Bxe3+,Nxe3,Nxe4,Nd5,Ne7,Qc2,Nxd5,Qxe4,Nb6,b3,Re8,Qxb7,Qd2,Qxf7+,Kh8,Ng3,Qe3+,Kh1,h6,Nf5,Qg5,Nd6,Rf8,Qb7,Rab8,Qxa7,Nxc4,Nf7+,Kh7,bxc4,Qd2,Nxe5,Rb2,Rg1,Rf2,Ng4,Rxg2,Qc5', 'Rxh2+,Nxh2,Qxh2#', 'https://lichess.org/training/k4zQg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K5AM0', 'Rapid', 'Belito2013', 1995, 'Checkmat11', 1842, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,bxc3,d5,Bb3,O-O,Qc2,Bf5,Qb2,Bg4,Ne5,Nxe5,dxe5,Nc5,Bc2,Qh4,Qb4,Na6,Qxb7,Be2,Re1,Qc4,Bb3,Qd3,Bxd5,Rab8,Qxa7,Qxd5,Bf4,Bc4,Rad1,Qb7,Qd4,Be6,Bd2,Rfd8,Qf4,Nc5,Qg3,Ne4,Qe3,Nxd2,Rxd2,Rxd2,Qxd2,Qd5,Qxd5,Bxd5,a4,Ra8,Ra1,Bc6,a5,Kf8,Kf1,Ke7,g3,Ke6,f4,Bb5+,Ke1,Kd5,Kd2,Kc4,Kc2,Kd5,Kb3,Ke4,c4,Ba6,Rf1,Rb8+,Kc3,c5,h3,Rb4,Re1+,Kf3,f5,Rxc4+,Kb3,Re4', 'Rxe4,Kxe4,e6,fxe6,fxe6', 'https://lichess.org/training/K5AM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K5fMp', 'Blitz', 'ARA9000', 1509, 'YumaFiktif', 1603, 'e4,e5,Nf3,Qf6,Bc4,Bc5,O-O,h6,h3,Ne7,c3,a6,d3,d6,a3,Ba7,Re1,Nbc6,Be3,Bxe3,Rxe3,Na5,Ba2,b5,Nbd2,Bb7,Re1,Ng6,Nf1,Nf4,Ng3,Bc8,b4,Nc6,Bd5,O-O,Bxc6,Qg6,Bxa8,Nxh3+,gxh3,Bxh3,Bd5,Bg4,Nh4,Qg5,Nf3,Qf4,Re3,g5,Nf5,Bh3,Bxf7+,Rxf7,Nxh6+,Kf8,Nh2', 'Qxf2+,Kh1,Bg2#', 'https://lichess.org/training/K5fMp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k5HrA', 'Blitz', 'olalove', 1907, 'moj1990', 1951, 'Nf3,Nf6,d4,d5,c4,c5,Nc3,cxd4,Nxd4,dxc4,e4,e5,Nf3,Qxd1+,Kxd1,Nc6,Bxc4,a6,Bg5,b5,Bxf6,bxc4,Bxe5,Nxe5,Nxe5,Bc5,Nd5,O-O,f4,f6,Nxc4,Bg4+,Kc2,Rac8,b3,Bd4,Rae1,Rfe8,h3,Bh5,g4,Bg6,f5,Bf7,Nf4,Bxc4,bxc4,Rxc4+,Kd3,Ra4,Ne6,Be5,Rc1,Rxa2,Rc6,a5,Rb1,Ra3+,Ke2,Rxh3,Rb7,a4,Rxg7+,Kh8,Ra7,Rh2+,Kd3,a3,Rca6,Bb2,Ke3,h5,gxh5,Rxh5,Kf3,Rh3+,Kg4,Rh1,Kg3,Rg8+,Kf3,Rf1+,Ke2,Rh1,Kd3,Rd1+,Kc2,Re1,Rf7,Rc8+,Kb3,Re3+,Ka2,Rb8,Raa7,Rh3,Rab7,Ra8,Ra7,Rb8,Nf4,Rh1', 'Ng6+,Kg8,Rg7#', 'https://lichess.org/training/k5HrA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K5lw1', 'Rapid', 'wheniam64', 1878, 'Daniel002', 1746, 'Nf3,d5,d3,e6,c4,c6,Nbd2,f5,g3,Nf6,Bg2,Bd6,O-O,Nbd7,e4,fxe4,dxe4,dxe4,Ng5,O-O,Ndxe4,Bc7,Nxe6,Qe7,Nxc7,Rb8,Bf4,Nxe4,Bd6,Nxd6,Re1,Qf6,f4,Nc5,b4,Nd7,Re6,Qd8,Qxd6,Nf6,Rd1,Bxe6', 'Qxe6+,Rf7,Rxd8+', 'https://lichess.org/training/K5lw1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K5nS2', 'Rapid', 'DavidBrodin', 2122, 'AlcianGreen', 2131, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d6,a4,a6,Re1,Bg4,c3,Ba7,Nbd2,O-O,Nf1,d5,exd5,Nxd5,h3,Bxf3,Qxf3,Nb6,Bb3,Qd6,a5,Nd7,Ng3,Nf6,Nf5,Qd7,Bh6,e4,dxe4,Ne5,Qf4,Nd3,Qg3', 'Bxf2+,Qxf2,Nxf2', 'https://lichess.org/training/K5nS2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k5pP6', 'Rapid', 'mostahkam', 2015, 'FlorianCupif', 1835, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Bc4,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,Nd4,O-O,Bd6,c3,Nxf3+,Qxf3,c6,d4,exd4,Bxh7,Rxh7', 'Qe4+,Be6,Qxh7', 'https://lichess.org/training/k5pP6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K5qbF', 'Rapid', 'joshragh', 1662, 'wally1357', 1679, 'e4,e5,Nf3,Nf6,Bc4,Nc6,O-O,h6,Re1,d6,h3,Be7,c3,Nh7,d4,exd4,cxd4,Ng5,Bxg5,Bxg5,d5,Ne5,Nxe5,dxe5,Nd2,O-O,Nf3,Bf6,a4,a6,Ba2,Bd7,b4,b5,a5,Bc8,Rb1,Bb7,Qb3,Re8,Rbc1,Rc8,d6,cxd6', 'Qxf7+,Kh8,Qxb7,Rxc1,Rxc1', 'https://lichess.org/training/K5qbF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k5rHC', 'Blitz', 'dstrrr', 2036, 'divdiv1', 2193, 'c4,c5,g3,Nc6,Bg2,d6,Nc3,Bd7,a3,g6,Rb1,Bg7,b4,cxb4,axb4,a6,e3,Ne5,d3,Rb8,Nge2,Nf6,O-O,O-O,b5,axb5,Nxb5,Bf5,e4,Bg4,h3,Bf3,Na3,Qd7,d4,Bxg2,Kxg2,Nc6,Nb5,Nxe4,d5,Ne5,Bb2,Ng5,Nf4,Nxc4,Bxg7,Kxg7,h4,Ne4,Qd4+,Kg8,Rfd1,Ned2,Rxd2,Nxd2,Qxd2,Rfc8,Nd4,Rc4,Nf3,b5,Qe2,Rbc8,Re1,Kf8,Ng5,h6,Nf3,b4,Rb1,b3,h5,Rc2,Qd3,R8c3,Qd4,f6,Ra1,g5,Ra8+,Rc8,Ne6+,Kf7,Ra7,Qb5,Qe4,Rxf2+,Kxf2,Rc2+,Kg1,Rc1+,Kg2', 'Qf1+,Kh2,Qh1#', 'https://lichess.org/training/k5rHC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K5rS0', 'Rapid', 'iran000iran', 1608, 'AldaArqt', 1644, 'e4,e5,Bc4,g6,d4,exd4,Qxd4,Nf6,e5,Qe7,Bg5,Bg7,Bxf6,Bxf6,Nf3,d6,O-O,dxe5,Qe4,O-O,Nc3,c6,Rae1,Nd7,Ne2,Nc5,Qe3,b6,Ng3,Be6,Bxe6,Qxe6,b3,Rfe8,Ne4,Nxe4,Qxe4,c5,c4,h5,Re2,Bg7,Ng5,Qf6,h4,Rad8,Qb7,Re7,Qe4,Bh6,f4,Rd4,Qa8+,Kg7', 'fxe5,Qxf1+,Kxf1', 'https://lichess.org/training/K5rS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k5T4h', 'Rapid', 'Alireza3959', 1927, 'russiankasparov', 1828, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,h6,O-O,d6,Qb3,O-O,e5,dxe5,Nxe5,Nxd4,Bxf7+,Kh7,Qd3+,Bf5,Bg6+,Bxg6,Qxg6+,Kg8,Ndf3,Nd5,Nxd4,Nf4,Qe4,Qg5,Rfe1', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/k5T4h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K5tYI', 'Classical', 'Pandoro03', 1600, 'VladimirSkrypnik', 1624, 'e4,c5,Nf3,d6,d4,g6,Nc3,Bg7,dxc5,Bxc3+,bxc3,dxc5,Qxd8+,Kxd8,Ne5,Be6,Be3,f6,Nc4,b6,Be2,Nc6,f4,Kc7,e5,fxe5,Nxe5,Nxe5,fxe5,Bf5,Bd3,e6,O-O,Ne7,a4,Rad8,Rfd1,Nc6,a5,Nxa5,Bxc5,bxc5,Rxa5,Kb6,Rb5+,Kc6,Rbb1,Bxd3,cxd3,Kd5,Ra1,Rd7,Ra6,Re8,d4,cxd4', 'Rxd4+,Kxe5,Rxd7', 'https://lichess.org/training/K5tYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k60SF', 'Blitz', 'hilso5862', 2160, 'meliniak', 2143, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,Kf1,c6,Nc3,d6,d3,Bg4,Bxf4,Ne7,g3,Bf6,Kg2,Ng6,Be3,O-O,h3,Be6,Bb3,d5,exd5,cxd5,d4,Nc6,a3,Qd7,Qd2,Nge7,Rae1,Nf5,Bf2,Rfe8,Ne5,Nxe5,dxe5,Be7,g4,Nh6,Be3,Bxg4,Bxh6,gxh6,hxg4,Qxg4+,Kf1', 'Qf3+,Qf2,Qxh1+,Qg1+,Qxg1+', 'https://lichess.org/training/k60SF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K62LK', 'Classical', 'PDM23', 1660, 'MinevG', 1706, 'e4,d5,e5,a6,d4,Nc6,Be3,f6,f4,Be6,Nf3,Qd7,Nc3,O-O-O,Bd3,Bf7,h3,fxe5,Nxe5,Nxe5,fxe5,e6,Qf3,Qe8,O-O,Rd7,Na4,Nh6,Nc5,Bxc5,dxc5,c6,c4,Bh5,Qf4,Rf7,Qd4,Nf5,Bxf5,Rxf5,cxd5,Rxf1+,Rxf1,exd5,Rf5,Bg6,Rg5,h6', 'Qg4+,Kb8,Rxg6', 'https://lichess.org/training/K62LK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K66Kd', 'Rapid', 'prince2582', 1956, 'Lexoba', 1962, 'd4,Nf6,e3,d5,f4,e6,Nf3,Be7,Bd3,Bb4+,c3,Ba5,O-O,O-O,b4,Bb6,a4,a5,b5,c6,c4,c5,cxd5,Nxd5,Qe2,cxd4,Nxd4,Nd7,Bb2,Nc5,Bc4,Ne4,Nd2,Nxd2,Qxd2,Re8,Kh1,e5,fxe5,Be6,Bxd5,Bxd5,Nf5,Qg5,Bd4,Bxd4,Nxd4,Rxe5,Nf3,Bxf3,Rxf3,Rae8,Qd7,Rxe3', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/K66Kd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6agV', 'Blitz', 'crappy_player23', 1551, 'black_pawn_in_7th', 1516, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,Nc3,Nf6,d4,exd4,Nxd4,Be5,Nce2,O-O,f4,Bxd4+,Nxd4,Nxe4,Qd3,f5,Rd1,Qh4,Qc4+,Kh8,g3,Qh3,Nf3,Nxg3,Ng5,Qg4,Nf7+,Rxf7', 'Rd8+,Rf8,Rxf8#', 'https://lichess.org/training/K6agV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6ayM', 'Classical', 'ivandeoliveira343', 1604, 'chessbryk', 1725, 'e4,g6,d4,Bg7,Nc3,d6,Nf3,a6,Be3,b5,Bd3,Bb7,O-O,Nd7,d5,Ngf6,Nd4,O-O,f4,Nc5,b4,Nxd3,cxd3,Qd7,f5,c6,dxc6,Bxc6,fxg6,hxg6,Nxc6,Qxc6,Rc1,Qd7,Qf3,Rac8,Bd4,Nh5,Bxg7,Kxg7,Nd5,Rxc1,Rxc1,e6,Ne3,Rc8,Rf1,f5,exf5,exf5,Nxf5+,Qxf5', 'Qb7+,Kh6,Rxf5', 'https://lichess.org/training/K6ayM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6bvM', 'Rapid', 'naprof', 1925, 'quauhpilli', 1826, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Nc3,Nc6,Nf3,Nh6,O-O,O-O,Nd5,Be7,Qc2,d6,Qc3,Bf6,Nxf6+,Qxf6,Qc2,Qf4,Bc1,Qf6,Bg5,Qg6,Qc3,Bg4,Bh4,Qxe4,Ng5,Qg6,Bd5,Ne5,Qxc7,Nf5,Be4,h6,Bxf5,Qxf5,Nh3,Bxh3,gxh3,Qxh3,Bg3,Nf3+,Kh1,h5,Qxd6,h4,Qf4,g5,Qxf3,hxg3,fxg3,g4,Qf6,Qh5', 'Rf5,Qg6,Rg5,Kh7,Rxg6', 'https://lichess.org/training/K6bvM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6Ca5', 'Rapid', 'imanvizheh', 1730, 'MAZZINGER', 1713, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Qe2,Be7,Bb3,O-O,O-O,Re8,c4,Bf6,Qd3,d4,Ba4,Nc5,Qa3,Nxa4,Qxa4,Bf5,Qb4,b6,Qa3,Nd7,d3,Nc5,Ne1,Qe7,b4,Qxe1,bxc5,Bh4,g3,Qxf1+,Kxf1', 'Bh3+,Kg1,Re1#', 'https://lichess.org/training/K6Ca5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6CpX', 'Blitz', 'Edita1', 1514, 'bosollie', 1505, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,e6,h3,Bb4,Bd2,Bxc3,Bxc3,Nxe4,a3,Nxc3,bxc3,O-O,Nf3,Qf6,Qd2,Na5,a4,a6,Bd3,d5,O-O,Rd8,Ra2,e5,Ne1,e4,Be2,Nc4,Qd4,Qe6,Bxc4,b5,axb5,Bd7,Be2,axb5,Rxa8,Rxa8,f3,exf3,Bxf3,Ra1,Qd2,Qb6+,Kh1,Be6,Bxd5,Bxd5,Qxd5,h6,Qxf7+,Kh7,Qf2,Qxf2,Rxf2,Rxe1+,Kh2,g5,Rd2,Kg6,Kg3,Re3+,Kf2,Rxc3,Ke2,Kf5,Kd1,Ke4,Rd6,Ke3,Rxh6,b4,Rg6,Rc5,Rf6,Ke4,Kc1,b3,Rf2,Ke3,Rd2,bxc2,Rxc2', 'Rxc2+,Kxc2,Kf2,g4,Kg3,h4,Kxh4', 'https://lichess.org/training/K6CpX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6cTp', 'Rapid', 'sparkler7', 1827, 'whn', 1952, 'd4,Nf6,Nf3,c6,Bf4,d5,e3,Bf5,c4,e6,cxd5,exd5,Qb3,Qa5+,Nc3,Bb4,a3,O-O', 'Qxb4,Qxb4,axb4', 'https://lichess.org/training/K6cTp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k6Du5', 'Rapid', 'Werdna2016', 1690, 'santiago553789', 1628, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,c3,d6,d4,exd4,cxd4,a6,Bxc6+,bxc6,dxc5,O-O,Bg5,h6,Bxf6,Qxf6,Nc3,dxc5,Qc2,Bg4,Nd2,Qg5,f3,Be6,Na4,Rad8,Nxc5', 'Rxd2,Qxd2,Qxd2', 'https://lichess.org/training/k6Du5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k6EeR', 'Bullet', 'pzwnt', 1671, 'Orlandoharun2', 1702, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be2,Nge7,O-O,Ng6,Kh1,Bc5,Nxc6,bxc6,f4,O-O,f5,exf5,exf5,Ne5,f6,gxf6,Ne4,Be7,Bd3,Ng6,Qh5,d5,Ng3,Kh8,Nf5,Bxf5,Rxf5,Rg8,Qh6,Bf8,Qxh7+,Kxh7,Rh5+,Kg7', 'Bh6+,Kh8,Bxf8#', 'https://lichess.org/training/k6EeR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6FZZ', 'Rapid', 'MOHAMADM114', 1624, 'vinko50', 1608, 'd4,e6,c4,d5,Nc3,dxc4,e3,Ne7,Bxc4,Nd5,Nf3,c6,Bxd5,cxd5,O-O,Be7,Bd2,Bd7,a3,O-O,b4,a6,Rc1,Qe8,e4,dxe4,Nxe4,Bc6,Ng3,Nd7,Ne5,Nxe5,dxe5,Rd8,Rc2,Bd5,Qb1,Qb5,Rfc1,Bc6,h3,Qd5,f3,Qxe5,Be1,Qd4+,Kh1,Bh4,Ne2,Qf6,Bc3,Qh6,Qb2,Bf6,Nd4,Bxf3,gxf3,Qxh3+,Kg1,Qg3+,Rg2,Qf4,Nxe6,Qe3+,Kh1,Qxe6,Bxf6,g6,Bxd8,Rxd8,Rgc2,Qh3+,Kg1,Qg3+,Kf1,Qxf3+,Ke1,Qh1+,Ke2,Re8+,Kd3,Qe4+,Kc3,b5,Kb3,Qd5+,Kc3,Qc4+,Kd2,Rd8+,Ke3,Qe6+,Kf4', 'Qf5+,Kg3,Rd3+', 'https://lichess.org/training/K6FZZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6G6u', 'Rapid', 'Kosmos1987', 1712, 'packerraider', 1680, 'e4,e5,Bc4,Nf6,d3,h6,Nf3,Nc6,Nc3,Bb4,Bd2,d6,Nd5,Bc5,b4,Bd4,c3,Bb6,Nxb6,axb6,a4,Bg4,b5,Ne7,h3,Bh5,g4,Bg6,Nh4,Bh7,Nf5,O-O,Qc1,d5,exd5,Nfxd5,Bxh6,Nxf5,gxf5,Bxf5,Bg5,Qd7,Rg1,Kh8,h4,f6,Be3,Rae8,Qd2,Nxe3,fxe3,Rd8,e4,Be6,Bxe6,Qxe6,h5,Rd6,h6,Rg8', 'hxg7+,Rxg7,Qh6+,Rh7,Qf8+,Qg8,Rxg8#', 'https://lichess.org/training/K6G6u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k6Hi4', 'Rapid', 'tamerelsawy', 1668, 'rubenzarco', 1672, 'e4,e5,Nf3,Nf6,Nxe5,d5,exd5,Qxd5,Qe2,Be7,c4,Qc5,d3,O-O,Bd2,Re8,Kd1,Bd6,f4,Bxe5,fxe5,Bg4,exf6,Bxe2+,Bxe2,Qf2,Bf3,Nc6,Nc3,Rad8,Ne4,Qd4,fxg7,Rxe4,Bxe4,Kxg7', 'Bc3,Ne5,Bxd4', 'https://lichess.org/training/k6Hi4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6HP9', 'Rapid', 'Mashy', 1840, 'hubilai', 1731, 'e4,c5,e5,d5,f4,e6,d4,Nc6,Bb5,a6,Bxc6+,bxc6,Be3,cxd4,Qxd4,c5,Qc3,d4,Bxd4,cxd4,Qc6+,Bd7,Qc4,Qb6,Nf3,Bc5,Nbd2,d3,Ne4,Qxb2,Qxc5,Qxa1+,Kf2,Qb2,Nd6+,Kf8', 'Nc4+,Ne7,Nxb2', 'https://lichess.org/training/K6HP9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k6Ii7', 'Rapid', 'GagarinYra', 2017, 'Sudung', 2122, 'e4,Nc6,Nf3,e5,Bb5,Bd6,O-O,Nge7,c3,Ng6,d3,a6,Ba4,b6,Re1,Bb7,Nbd2,O-O,Nf1,Kh8,Ne3,Nce7,Ng4,f6,Bb3,b5,Bd2,c5,Ne3,Nf4,Bc2,Bc7,Nf1,Nfg6,d4,c4,d5,d6,Kh1,Bb6,Be3,Bc8,Bxb6,Qxb6,Ne3,Nf4,Qd2,Neg6,b3,cxb3,axb3,Bd7,c4,Rac8,g3,Nh3,Kg2,Ng5,Ng1,b4,Bd1,a5,Bh5,Nxe4,Qd3,Nc5,Qc2,f5,f4,e4,Bxg6,hxg6,Nh3,Rf6,Ng5,Kg8,Nd1,Kf8,Nh7+,Kf7,Nxf6,gxf6,Nf2,Re8,Re3,Re7,Qd2,a4,bxa4,Bxa4,Qd4,b3,Nd1,Qb4,Nb2,Be8,Qc3,Qxc3,Rxc3,Rb7,Ra5,Nd3,Nxd3', 'exd3,Rxd3,b2', 'https://lichess.org/training/k6Ii7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6ivS', 'Blitz', 'Burricon123', 1994, 'besyo', 1619, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Be7,e3,O-O,Rc1,Nbd7,a3,c5,cxd5,cxd4,dxe6,dxc3,exd7,Bxd7,bxc3,Qe8,Nd4,Ne4,Bxe7,Qxe7,Bd3,f5,O-O,Qxa3,Bxe4,fxe4,Nc2,Qe7,Qd4,b6,Nb4,Rad8,Nd5,Qe6,Nf4,Qf5,Qc4+,Kh8,Ra1,Bb5,Qe6,Bxf1,Kxf1,Qb5+,c4,Qb2,Re1,Rfe8,Qh3,Rd2,Re2,Rd1+,Re1,Rxe1+,Kxe1,Qc1+,Ke2,Rd8', 'Ng6+,Kg8,Qe6#', 'https://lichess.org/training/K6ivS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k6lYD', 'Blitz', 'FM Monterodecjhi', 2098, 'Elkut', 2295, 'd4,d5,Nf3,c5,dxc5,Nc6,a3,Bf5,b4,e6,Bb2,Nf6,e3,a5,c3,axb4,cxb4,Be7,Bd3,Bg6,O-O,O-O,Nc3,Nd7,Bxg6,hxg6,Nb5,Rc8,Rc1,Nf6,Ne5,Ne4,f3,Nf6,Qd3,Nd7,Nxd7,Qxd7,Rfd1,Qe8,e4,dxe4,Qxe4,Rd8,Kf2,Rxd1,Rxd1,Qb8,Rd7,Qxh2,Rxb7,Bh4+,Ke3,Qg1+,Kd3,Qb1+,Kc4,Qxb2,Qxc6,Qc2+,Kd4,Bf6+,Ke3,Qc1+,Ke2,Qc4+,Ke3,Bg5+,Kf2,Bf4,Qe4,Qa2+,Qe2,Bg3+,Ke3,Qb3+,Qd3,Bf4+,Ke4', 'f5+,Kxf4,Qxd3', 'https://lichess.org/training/k6lYD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k6OcN', 'Rapid', 'raymond-pommier', 1743, 'Josecueto64', 1842, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,d3,Nd4,Nxd4,Bxd4,Ne2,c5,Nxd4,cxd4,Bg5,h6,Bh4,g5,Bg3,Re8,h4,d5,exd5,Nxd5,hxg5,hxg5,Qh5,Bf5,Rae1,Bg6,Qf3,Nf4,Bxf4,exf4,Rxe8+,Qxe8,Qd5,Qd8,Qxb7,Rb8,Qxa7,Rxb2,Bb3,Qd6,Re1,f3,Qa8+,Kg7,Qxf3,Qc5,Rc1,Qe5,g3,Bf5,Kg2,g4,Qd5,Qf6,Re1,Be6,Qe4,Bxb3,cxb3', 'Qxf2+,Kh1,Qh2#', 'https://lichess.org/training/k6OcN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6oVC', 'Blitz', 'Marxvonazulay', 2036, 'MoreMate', 2015, 'c4,c6,Nc3,d5,e3,e5,b3,Nf6,Bb2,d4,exd4,exd4,Nce2,c5,d3,Bd6,g3,O-O,Bg2,Nc6,Nf3,Re8,O-O,Bg4,Re1,Qd7,a3,Re7,Qd2,Rae8,Nf4,Bxf3,Bxf3,Bxf4,Qxf4,Rxe1+,Rxe1,Rxe1+,Kg2,h6,b4,b6,bxc5,bxc5,a4,Nb4,Ba3,a5,Bxb4,axb4,h3,Qxa4,g4,Re8,h4,b3,g5,hxg5,hxg5,Nd7,g6,Rf8,Bd5,b2,Bxf7+,Rxf7', 'Qxf7+,Kh8,Qe8+,Nf8,Qxf8#', 'https://lichess.org/training/K6oVC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6pFM', 'Classical', 'Simba4141', 1922, 'DraGon2244', 1955, 'b4,e5,Bb2,Qe7,e4,Nc6,b5,Nd4,Nf3,Nxf3+,Qxf3,Nf6,Bc4,Qb4,Qb3,Qxb3,Bxb3,Bd6,f3,O-O,O-O,Bc5+,Kh1,d6,Nc3,Bd4,Rab1,Nh5,Nd5,Bb6,d3,c6,bxc6,bxc6,Ne7+,Kh8,Nxc6,Bd7,Nb4,Bc5,Na6,Bb6,Ba3,Bc8,Bc4,Rd8,Nb4,Bb7,Bxf7,Nf4,Nd5,Nxd5,exd5,Bc8,c4,g6,Bb2,Kg7,Be6,Bxe6,dxe6,Kf6,f4,Kxe6,fxe5,dxe5,Rbe1,Bd4,Bc1,Bc3,Rd1,Rd7,Bg5,Rf7,Rxf7,Kxf7,Rf1+,Kg8,Bf6', 'Rf8,Rf3,e4,Bxc3,exf3', 'https://lichess.org/training/K6pFM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6QJu', 'Blitz', 'singhun', 1602, 'tanzids', 1591, 'e4,c5,c3,g6,d4,cxd4,cxd4,Bg7,Nf3,Qb6,Nc3,Nc6,Be2,Nxd4,Nxd4,Bxd4,O-O,Bg7,Nd5,Qd8,Qc2,Be5,f4,Bb8,Qc3,Nf6,Nxf6+,exf6,Bg4,O-O,Rd1,d6,Bxc8,Bc7,Bg4,f5,exf5,Rc8,Qb3,Qh4,Bf3,Rfe8,fxg6', 'Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/K6QJu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k6QUR', 'Blitz', 'Curt60', 2063, 'KolSuvvin', 2186, 'd4,d5,Nf3,Nf6,e3,g6,Be2,Bg7,O-O,O-O,c4,c5,Nc3,cxd4,exd4,Nc6,cxd5,Nxd5,Qb3,Nxc3,bxc3,Na5,Qd1,b6,Ba3,Bb7,Re1,Re8,Bb5,Bc6,Qa4,Bxb5,Qxb5,Rc8,Rac1,Nc4,Bb2,a6,Qb3,b5,a4,bxa4,Qa2,Qb6,Ba1,Qb3,Qe2,Rb8,h3,a3,Nd2,Nxd2,Qxd2,Qc4,Rc2,e5,Ra2,exd4,Rxe8+,Rxe8,cxd4,Qb3,g3,Bf8,d5,Rd8', 'Qd4,f6,Qxf6,Rd6,Qh8+', 'https://lichess.org/training/k6QUR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6Rcj', 'Rapid', 'pauloleroi', 1731, 'pionnenvreter', 1983, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nb3,Qd8,f4,e6,Nc3,a6,a3,d6,Be2,g6,O-O,Bg7,Be3,Nge7,Rb1,O-O,Na4,b5,Nb6,Rb8,Nxc8,Rxc8,c4,bxc4,Bxc4,d5,Bxa6,Ra8,Bd3,dxe4,Bxe4,Rb8,Qc2,f5,Bxc6,Rc8,Nd4', 'Bxd4,Bxd4,Qxd4+', 'https://lichess.org/training/K6Rcj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6u7F', 'Rapid', 'SM-P4', 1856, 'ARUNEDAVA', 1874, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Nf6,d3,Be7,O-O,O-O,h3,Nd7,d4,f5,exf5,Rxf5,Bd3,Rf6,Bg5,Rf8,Bxe7,Qxe7,dxe5,Ncxe5,Nxe5,Nxe5,Bc2,Qh4,Nd2,Bg4,hxg4', 'Nxg4,Qxg4,Qxg4', 'https://lichess.org/training/K6u7F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6xD8', 'Blitz', 'Rurushu_Lamperouge', 1641, 'gcarvallo', 1527, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,h6,h3,O-O,Nc3,d6,Ne2,a6,Ng3,b5,Bb3,Bb7,c3,Ne7,Be3,Bxe3,fxe3,Ng6,d4,Re8,Re1,d5,exd5,Nxd5,e4,Ndf4,Bc2,Nh4,Nxe5,Nhxg2,Rf1,Ne3,Qf3,Nxf1,Rxf1,Nxh3+,Kg2,Ng5,Nxf7,Nxf3,Rxf3,Qe7,Ne5,c5,Nf5,Qg5+,Rg3,Qd2+,Kh3,Qxc2', 'Rxg7+,Kh8,Ng6#', 'https://lichess.org/training/K6xD8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6yyG', 'Rapid', 'timecrisis_ii', 1650, 'danbar001', 1662, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,e5,Qf5,Bd3,c5,Qd5,Qe6,Qe4,d6,Bc4,Qxe5,Qxe5+,dxe5,O-O,Bd6,Nc3,Nf6,Nb5,Ke7,Rd1,Rd8,Be3,a6', 'Nxd6,Rxd6,Bxc5', 'https://lichess.org/training/K6yyG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K6ZAf', 'Classical', 'Dilanuwu', 1716, 'AUMSKT', 1716, 'd4,e6,Nf3,c5,g3,Nc6,Bg2,cxd4,Nxd4,d5,O-O,Nf6,Nc3,h6,Re1,Bd6,e4,dxe4,Nxe4,Nxe4,Rxe4,O-O,Nxc6,bxc6,Qg4', 'f5,Qh5,fxe4', 'https://lichess.org/training/K6ZAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k72cH', 'Rapid', 'Bodycount', 1647, 'Desko_D', 1834, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nc3,Be7,Bb5,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Nf6,Re1,O-O,Bf4,h6,h3,Rb8,b3,d5,exd5,Bb4,Qf3,Bxc3,Qxc3,Nxd5,Qd4,Rb4,c4,c5,Qxc5,Nxf4,Qxb4,Qg5,Qb7,Nxh3+,Kh2,Nxf2,Qf3,Ng4+,Kg1,Qc5+,Kh1,Nf2+,Kh2,Qd6+,Qg3,Qxg3+,Kxg3,Nd3,Red1,Ne5,Kh3,f6,Re1,Rd8,Rad1,Rb8,Rd2,Rb6,Red1,Re6,Rd8+,Kh7,Ra8,Ng6,Rxa7,c6,Rad7,Re3+,Kh2,Ne5,R7d2,Ng4+,Kg1,Ne5,Kf1,Rg3,Kf2,Rg4,a4,Rf4+,Kg1,Rg4,a5,Nf3+,Kf1,Nxd2+,Rxd2,Re4,a6,Re8,a7,Ra8,Ra2,Kg6,b4,Kf7,b5,cxb5,cxb5,Ke7,Ke2,Kd7,Kd3,Kc7,Kc4,Kb6,Ra6+,Kb7,Kc5,Rxa7,Rxa7+', 'Kxa7,Kc6,Kb8', 'https://lichess.org/training/k72cH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K75EY', 'Bullet', 'Rubzowsk-chess', 1848, 'Baldkeeper', 1749, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Nf3,Be7,Be2,O-O,O-O,a6,b3,Ne4,Ne5,Nxc3,Qd3,Nxe2+,Qxe2,Nc6,Qg4,Nxe5,dxe5,Re8,Bh6,Bf8,f4,Kh8,Bg5,Be7,Rf3,Bxg5,fxg5,Rg8,Rxf7,Bd7,g6,h6,Qh3,Bc6', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/K75EY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K7bHw', 'Rapid', 'KWB1', 1704, 'Elpho', 1677, 'd4,Nf6,Bf4,g6,e3,Bg7,c3,O-O,Nf3,d6,Bd3,Ne8,Nbd2,e5,dxe5', 'dxe5,Nxe5,Bxe5,Bxe5,Qxd3', 'https://lichess.org/training/K7bHw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K7et5', 'Rapid', 'MrBeanoni', 2045, 'Djstar7', 1924, 'e4,c6,b3,d5,Bb2,e6,Nc3,Nf6,e5,Nfd7,Nf3,Bc5,d4,Bb4,Be2,c5,O-O,Nc6,a3,Bxc3,Bxc3,cxd4,Bxd4,Nxd4,Qxd4,Qb6,Qg4,O-O,Bd3,h6,h4,f5,exf6,Nxf6,Qg6,Bd7,Ne5,Be8,Qg3,Qd4,Rae1,Nh5,Qh2,Nf4,Re3,Nxd3,Rxd3,Qe4,Qg3,Rf5,Nf3,Bb5,Re1', 'Rxf3,Rxe4,Rxg3,Rxg3,dxe4', 'https://lichess.org/training/K7et5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K7hy3', 'Classical', 'Elmagoasdfghjkl', 1781, 'Fireffin', 1817, 'd4,d5,c4,e5,e3,exd4,Qxd4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,Bb5,Qd7,Ne5,Qd6,Nxc6,bxc6,Ba4,Bd7,Bd2,Be7,O-O,O-O,Bb3,Bd8,e4,Bb6,Qd3,Qc5,exd5,cxd5,Be3', 'd4,Qxd4,Qxd4,Bxd4,Bxd4', 'https://lichess.org/training/K7hy3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K7hy9', 'Rapid', 'WildTiger', 1945, 'VasilenkoY', 1772, 'd4,d5,Bf4,c6,e3,a6,Bd3,b5,Nd2,Nf6,c3,e6,Ngf3,Nbd7,Qe2,Be7,Ne5,O-O,Nxc6,Qe8,g4,Nb6,Ne5,Nfd7,g5,f6,Bxh7+,Kxh7,g6+,Qxg6,Nxg6,Kxg6,Rg1+,Kf7,Qh5+,Kg8,Qg6,Rf7,Rg3,Nf8,Qh5,g6,O-O-O,Rh7,Qe2,Ra7,Rdg1,g5,R3g2,Kf7,Bg3,f5,Nf3,Ng6,Be5,g4,Nd2,Nxe5,dxe5,Nc4,Nxc4,bxc4,e4,Bb7,exf5,exf5,f3,d4,e6+,Kf6,cxd4,Bxf3,Qe5+,Kg6,Rc2,Bf6,Qb8,Bxd4,Re1,Rhe7,Rxc4,Bg7,Rc8,Rab7,Qd6,Bxb2+,Kd2,Bg7,Rg8,Kh7,Rc8,Be4,Qg3,Bh6+,Kc3,Bg7+,Kc4,Rxe6,Qh4+,Bh6,Rd1,Ree7,Rdd8,Rbc7+,Rxc7,Rxc7+,Kd4,Rb7,Qg3,Rf7,Qh4,Rb7,Qh5,Rb4+,Kc5,Rb5+,Kd4,Rb7,Qe8,Bg7+,Kc5,Rc7+,Kb4,Rb7+,Ka4,Bc2+,Ka3', 'Bb2#', 'https://lichess.org/training/K7hy9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K7icn', 'Rapid', 'zagozol', 1755, 'Faizanakhtar102', 1775, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,O-O,gxf3,Qxf3,Qf6,d3,Bd6,Nc3,c6,Bxf4,Bxf4,Qxf4,Qxf4,Rxf4,d5,Bb3,Be6,exd5,cxd5,Nxd5,Bxd5,Bxd5,Nd7,Re1+,Kd8,Bxf7,Kc7,Bxg8,Rhxg8,Rf7,Rge8,Ree7,Rxe7,Rxe7,Kd6,Rxh7,Re8,Kf2,Ne5,Rxb7,Rf8+,Kg1,Nc6,c3,Re8,Kf2,Rf8+,Kg1,Re8,Kf2,Rf8+,Ke2,Re8+,Kf3,Re1,h4,Ne5+,Kg3,Re3+,Kf4,Rxd3,h5,Rd2,h6,Rxg2,h7,Rh2,a4,Nc6,b4,Ne7,Rxa7,Rxh7,Ra6+,Kd5,Ra7', 'Ng6+,Kg5,Rxa7', 'https://lichess.org/training/K7icn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k7ixZ', 'Rapid', 'mehdi-silavi', 1853, 'greatroman', 1734, 'e4,e5,f4,d6,Nf3,Nc6,Bb5,Bd7,O-O,Be7,c3,b6,f5,Nf6,d3,h6,Nh4,Nxe4,dxe4,Bxh4,Qg4,Bg5,h4,Bxc1,Qxg7,Be3+,Kh1,Rf8,f6,a6,Bc4,Be6,Bxe6,fxe6,Na3,b5,Rad1,Qd7', 'f7+,Qxf7,Rxf7', 'https://lichess.org/training/k7ixZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k7kbk', 'Classical', 'Paseandoelrey', 1642, 'brenogregolin', 1660, 'd4,e6,Nf3,d5,Bf4,c5,c3,b6,e3,Bb7,Be2,Nd7,O-O,Ngf6,Nbd2,Ne4,Re1,Be7,Bf1,O-O,Ne5,Nxf2,Kxf2,Bh4+,g3,Nxe5,dxe5,Bg5,Qf3,Rb8,Bxg5,Qxg5,Qf4,f6,exf6', 'Rxf6,Nf3,Rxf4', 'https://lichess.org/training/k7kbk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K7kDl', 'Rapid', 'L-H', 1780, 'DennisB_Plattling', 1730, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,Nf6,Be3,Bb6,O-O,d6,h3,Be6,Bb3,O-O,Qd2,Kh7,Rad1,d5,exd5,Nxd5,Nxd5,Bxd5,c4,Bxf3,gxf3,Qf6,Qe2,Qg6+,Kh2,f5,Rg1,Qd6,Rg2,e4+,Kh1,exd3,Rxd3,Qf6,Rd7,Rf7', 'Rxf7,Qxf7,c5', 'https://lichess.org/training/K7kDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k7LkR', 'Blitz', 'mrbeast24', 2074, 'paulzelf', 2094, 'd4,Nf6,Bf4,e6,e3,b6,Nf3,Bb7,Bd3,Be7,O-O,Nh5,Be5,d6,Bf4,O-O,c3,Nd7,Nbd2,Kh8,h3,Nxf4,exf4,c5,Re1,Rc8,f5,cxd4,cxd4,e5,dxe5,dxe5,Be4,Bxe4,Nxe4,f6,Nh4,Nc5,Qh5,Qe8,Ng6+,Kg8,Nxc5,Bxc5,Re4,Rf7', 'Qxh7+,Kxh7,Rh4+,Kg8,Rh8#', 'https://lichess.org/training/k7LkR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k7LXg', 'Rapid', 'Oleg100', 2025, 'Huepfmann', 2100, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,Nf3,Nc6,d4,Bg4,Bg5,Bxf3,Qxf3,Nxd4,Qd3,Nxb3,axb3,Ne4,Be3,a6,O-O,e6,f3,Nc5,Qd1,Bd6,c3,O-O,b4,Nd7,Nd2,Ne5,f4,Ng6,Qg4,f5,Qg3,e5,Qf3,exf4,Qxd5+,Kh8,Bd4,f3,Qxf3,Ne5,Qh3,Ng4,Nf3,Qc7,Qh5,Rae8,Rae1,Re7,h3,Nf6,Qxf5,Rxe1,Rxe1,Bg3,Re6,Nd7,Qg4,Rf7,Ng5', 'Bh2+,Kh1,Rf1+,Bg1,Rxg1#', 'https://lichess.org/training/k7LXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K7SHb', 'Rapid', 'pescejunior', 1846, 'Oscaravaca', 1878, 'e4,b6,Nf3,Bb7,Nc3,a6,Bc4,e6,d3,g6,Bg5,f6,Bf4,h6,Qd2,g5,Bg3,b5,Bb3,c5,O-O-O,Ne7,Bd6,e5,Bxc5,d6,Be3,Qd7,a4,b4,Na2,a5,c3,bxc3,Nxc3,Na6,Kb1,Nb4,Nb5,Nec6,Rc1,Ba6,Nc3,Nxd3,Rcd1,Ncb4,Ne1,Nxe1,Rhxe1,Be7,Bc5,Bd3+,Ka1,dxc5,Nd5,c4,Bxc4,Bxc4', 'Nxf6+,Bxf6,Qxd7+', 'https://lichess.org/training/K7SHb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K7t2Q', 'Blitz', 'Guseven', 1554, 'a158087', 1590, 'Nf3,e5,Nc3,Nc6,e4,Nf6,Bc4,Bc5,Ng5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,d4,exd4,Nd5,Nxe4,Qh5+,Kg8,Bf4,d6,O-O-O,Nxf2,Rhe1,Nxd1', 'Re8+,Qxe8,Qxe8#', 'https://lichess.org/training/K7t2Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K7tCb', 'Blitz', 'JustTraining', 2056, 'Natator', 2060, 'e4,e5,Qh5,Nf6,Qxe5+,Be7,d3,Nc6,Qg3,O-O,Be2,Re8,Be3,d5,e5,Nxe5,Qxe5,Bb4+,Qc3,Bxc3+,bxc3,Bg4,h3,Bxe2,Nxe2,b6,O-O,c5,d4,c4,Nd2,Qd6,Rae1,Re6,g3,Rae8,Nf4,R6e7,Ng2,Qd7,Kh2,h5,Nf4,h4,Kg2,hxg3,Kxg3,Ne4+,Nxe4,Rxe4,Kh2,Qd6,Kh1,Qh6,Kg2,Qg5+,Kf3,Qf5,Rg1,Kh7,Rg3,g5,Reg1,Rxf4+,Bxf4,Qxf4+,Kg2,f6,Rg4,Qf5,Kg3,Re2,Rg2,Rxc2,h4,Rxc3+,Kh2,gxh4', 'Rxh4+,Qh5,Rxh5#', 'https://lichess.org/training/K7tCb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k7U2V', 'Blitz', 'Sgplus', 2344, 'FM A_H_Kashefi', 2430, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bd3,Bc5,Nb3,Nf6,Nxc5,Qxc5,O-O,b5,Be3,Qc7,f4,Bb7,e5,Nd5,Nxd5,Bxd5,Qg4,g6,b3,Bb7,c4,bxc4,Bxc4,Nc6,Rad1,O-O-O,Rc1,Kb8,Qe2,Qa5,Qf2,Rc8,Bb6,Qa3,Bc5,Qa5,a3,Rhd8,Bb6,Qxa3,Ra1,Qb4,Bc5,Qc3,Bd6+,Ka8,Bxa6,Na5,b4,Bxa6,Rxa5,Kb7,Qf3+,Qxf3,Rxf3,Rc1+,Kf2,Rf1+,Kg3,Rxf3+,Kxf3,Kb6', 'Bc5+,Kb7,b5,Bxb5,Rxb5+', 'https://lichess.org/training/k7U2V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k7v58', 'Rapid', 'Abdallah0115', 1749, 'bali2020', 1762, 'd4,e5,e4,f6,d5,Bd6,Nf3,c6,Nh4,g6,c4,cxd5,cxd5,f5,exf5,Qxh4,fxg6,Qe4+,Be3,Qxg6,Be2,Nf6,g4,Nxd5,Qxd5,Nc6,h4,Ke7,Bg5+,Kf8,Nc3,h6,Be3,b6,Rd1,Be7,b4,Bb7,b5,Na5,Qxd7,Rd8,Qf5+', 'Qxf5,Rxd8+,Bxd8,gxf5,Bxh1', 'https://lichess.org/training/k7v58');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k7XoW', 'Rapid', 'theTALentedmrmichael', 1791, 'domes', 1889, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c4,c5,cxd5,Qxd5,Nc3,Qd8,Be3,cxd4,Nxd4,Bg6,Qa4+,Nd7,Bb5,Qc7,f4,Bc5,O-O,Ne7,Bxd7+,Qxd7,Qxd7+,Kxd7,Rad1,Kc7,Ndb5+,Kc6,Bxc5,Kxc5,Rd7,Nf5,Rxb7,a6,Nc7', 'Kc6,Rb3,Kxc7', 'https://lichess.org/training/k7XoW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K7Zhs', 'Rapid', 'Pawnhacker', 2007, 'TAJBO4', 2004, 'd4,e6,Nf3,d5,Bf4,Bd6,Qd2,Bxf4,Qxf4,h6,h3,Nd7,e3,f5,c4,c6,Nc3,Ngf6,Qd6,Kf7,Be2,Re8,Ne5+,Nxe5,dxe5,Ne4,Nxe4,fxe4,Bh5+,g6,Be2,Qg5,O-O-O,Qxg2,Rdf1,Qg5,Rhg1,Qe7,f3,Rg8,fxe4+,Ke8,Qxe7+,Kxe7,exd5,exd5,Rf6,Bf5,Bg4,Rgf8', 'Bxf5,Rxf6,exf6+', 'https://lichess.org/training/K7Zhs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k7zTh', 'Rapid', 'LEO1986M', 2068, 'SkyShoedHorse', 2032, 'd4,e6,Bf4,d5,e3,c5,c3,Nc6,Nf3,cxd4,exd4,g6,Bb5,Bg7,Qa4,Qb6,Be5,Nf6,Bd6,Ne4,Ba3,Bd7,Nbd2,f5,Nxe4,dxe4,Ng5,h6,Nh3,Ne5,Bxd7+,Nxd7,Nf4,g5,Nh5,Bf8', 'Nf6+,Kf7,Nxd7', 'https://lichess.org/training/k7zTh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K7ZYz', 'Blitz', 'Periastron', 2219, 'rafatsaber', 2375, 'e4,g6,d4,d6,c4,Bg7,Nc3,a6,Be3,h6,f4,b6,Nf3,Bg4,Bd3,Nd7,h3,Bxf3,Qxf3,c5,d5,Ngf6,O-O,O-O,Rae1,e6,f5,Ne5,Qd1,gxf5,exf5,exd5,Nxd5,Nxd5,cxd5,Qh4,Bc2,Rae8,Rf4,Qf6,Bf2,b5,Bh4,Nd3,Bxf6,Rxe1+,Qxe1,Nxe1,Bxg7,Kxg7,Be4,Kf6,Kf2,Ke5,g3,Rg8,Kxe1', 'Rxg3,Rf3,Rg1+,Kf2,Kxe4', 'https://lichess.org/training/K7ZYz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K826X', 'Rapid', 'Daftpract', 1888, 'Montori', 1862, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,a6,a4,e6,d4,cxd4,Nxd4,Be7,O-O,Nbd7,Be3,O-O,f4,Nc5,e5,dxe5,fxe5,Nfd7,Nf3,Qc7,Bd3,Nxe5,Bf4,Nxf3+,Qxf3,Qb6,Be3,Qxb2,Bxc5,Bxc5+,Kh1,Qxc3', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/K826X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k84PV', 'Rapid', 'elijahblood', 1671, 'Buryak', 1995, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Bd7,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nc3,a6,Qe2,Bb4,Bd2,Ne7,Kh1,Qh4,f4,O-O,g3,Qh3,a3,Bxc3,Bxc3,Bc6,Bd4,Nf5,Bxf5,exf5,e6,fxe6,Qxe6+,Kh8,Rfe1,Rae8,Qd6,Rd8,Qe7,Rg8', 'Bxg7+,Rxg7,Qxd8+,Rg8,Qf6+', 'https://lichess.org/training/k84PV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k87Z5', 'Blitz', 'Jkaman', 1974, 'Thong94_teron', 1823, 'e4,d5,exd5,Qxd5,d4,Bf5,Be3,e6,c4,Bb4+,Nc3,Qd7,Nf3,Nf6,Be2,Ne4,Qc1,a5,O-O,O-O,Nxe4,Bxe4,a3,Be7,c5,c6,Ne5,Qd8,Bf3,Bxf3,Nxf3,Nd7,Rd1,Nf6,Qc2,Nd5,Bd2,a4,Rab1,h6,b4,axb3,Rxb3,Qc7,Rdb1,Ra7,a4,Rfa8,a5,Nf4,g4,Nh3+,Kg2,Ng5,Nxg5,Bxg5,Bxg5,hxg5,h3,Rxa5,Rxb7,Qf4,R1b2,g6,Qd2,Qe4+,f3,Qd5,Qe3,Ra3,Qe4,Qc4,Rb8+,Rxb8,Rxb8+,Kg7', 'Qe5+,f6,Qc7+,Kh6,Rh8#', 'https://lichess.org/training/k87Z5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K89cG', 'Classical', 'mony89', 1758, 'PPP1955', 2047, 'e3,d6,Qf3,Nf6,b3,g6,Bb2,Bg7,Nc3,O-O,Bd3,e5,Nge2,Nc6,Bb5,Bg4,Qg3,Ne7,f3,Bd7,Bxd7,Qxd7,O-O,Nf5,Qf2,Qe6,e4,Ne7,d4,Nh5,d5,Qd7,Ng3,Nxg3,Qxg3,f5,Qh3,Rad8,Rae1,f4,Qh4,Bf6,Qf2,Kg7,Qxa7,Bh4,Re2', 'Ra8,Qxb7,Rfb8,Qxa8,Rxa8', 'https://lichess.org/training/K89cG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K8B6r', 'Rapid', 'SkepticStarStuff', 1653, 'PHI96', 1641, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,Bb4,Bg5,Bxc3+,bxc3,h6,dxe5,hxg5,exf6,Qxf6,Nd4,Nxd4,cxd4,d6,c3,Bd7,Bc4,Be6,Bxe6,Qxe6,Qd3,O-O-O,O-O,Rde8,Rfe1,g4,Rab1,b6,Qa6+,Kb8,a4,Rh6,a5,Reh8,axb6,cxb6,Ra1,Qe7,Reb1,Rxh2,Rxb6+,Ka8,Rb8+,Kxb8,Rb1+,Ka8', 'Qc6+,Qb7,Qxb7#', 'https://lichess.org/training/K8B6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8fZO', 'Rapid', 'Kepler2527', 1651, 'Its_FashionWeek', 1647, 'g3,d5,Bg2,e5,d3,c5,e4,Nf6,exd5,Nxd5,Nf3,Nc6,O-O,Be7,Qe2,f6,Bd2,Bg4,Nc3,Nxc3,Bxc3,Nd4,Bxd4,cxd4,h3,Be6,c3,dxc3,bxc3,Qc8,c4,Bxh3,Bxh3,Qxh3,Rfe1,O-O,d4,Bb4,Reb1,Bc3,Rxb7,Bxa1,dxe5,fxe5,Nxe5,Bxe5,Qxe5,Qh6,Qd5+,Kh8,Rf7,Rxf7', 'Qxa8+,Rf8,Qxf8#', 'https://lichess.org/training/k8fZO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8GxT', 'Classical', 'olgunsmv', 1632, 'asigolu', 1623, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,O-O,d6,d3,Nc5,b4,Ne6,c3,Nc6,Qb3,a6,Nbd2,b5,Bd5,Bb7,Ne4,Qe7,Neg5,O-O-O,a4,e4,Nxe4,Ne5,Bxb7+,Kxb7,Nxe5,dxe5,axb5,axb5,Qa3,Kc6,Qa6+,Kd7,Qxb5+,c6,Ra7+,Nc7,Nc5+,Qxc5,Qb7,Qd6,b5,cxb5,Qxb5+,Qc6,Qxe5,Bd6,Qxg7,Rhg8,Qxf7+,Kc8,f3,Bc5+,d4,Bxa7,Qf5+,Kb7,Bf4,Ka8,Qxh7,Qc4,Bxc7,Rde8,Be5,Qxc3', 'Qe4+,Qc6,Qxc6#', 'https://lichess.org/training/k8GxT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8Htf', 'Rapid', 'birdscanFly4', 1995, 'Zunik', 1989, 'f4,b6,Nf3,Bb7,e3,Nf6,b3,e6,Bb2,d5,c4,dxc4,Bxc4,Nbd7,O-O,Bc5,Ne5,Qe7,Bb5,O-O-O,Bc6,Nxe5,Bxb7+,Kxb7,fxe5,Bxe3+,Kh1,Ne4,Qf3,Bxd2,Qxe4+,Kb8,Ba3,Qe8,Nxd2,Rxd2,Rfd1,Rxd1+,Rxd1,Qb5,Qg4,Qxe5,h3,h5,Qf3,f5,Qf2,Rg8,Bb2,Qe4,Re1,Qd5,Re5,Qd1+,Kh2,Qd6,g3,g5,Qe2,h4,g4,fxg4,hxg4,Rf8,Kh3,Qc6,Rxg5', 'Qh1+,Qh2,Rf3+,Kxh4,Qxh2#', 'https://lichess.org/training/k8Htf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8iAL', 'Classical', 'ZestyX', 1746, 'remchillhaas', 1657, 'e4,Nc6,c4,g6,Nc3,Bg7,Nf3,Bxc3,bxc3,Nf6,e5,Nh5,d4,d5,cxd5,Qxd5,Be2,Bg4,Bh6,O-O-O,h3,Be6,g4,Rhg8,gxh5,gxh5,Rf1,Bxh3,Rg1,Rxg1+,Nxg1,Qh1,Kd2,Nxe5,Kc2,Bf5+,Kb2,Qc6,Qb3,Qxh6,dxe5,Rd2+,Ka3,Qc6,Bf3,Qa6+,Qa4,Qxa4+,Kxa4,Rxf2,Bxh5,Bd7+,Ka3,Be6,Nh3,Rh2,Nf4,Bc4,Bf3,b5,Bd5,h5,Bxc4,bxc4,Nd5,Kd7,Rd1,h4,Nf4+,Ke8,Rd4,h3,Rxc4', 'Rxa2+,Kxa2,h2,Nd5,h1=Q', 'https://lichess.org/training/k8iAL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8j1d', 'Classical', 'tavrij', 1765, 'Akram69', 1651, 'e4,c5,Bc4,d6,d3,Nf6,f4,Qc7,Nf3,Bg4,O-O,g6,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Rf2,Bg7,c3,O-O,Qf1,Nd7,Rh2,Bh5,Qg2,Nf6,f5,Ng4,Rxh5,gxh5,Qh3,d5,Bxd5,Qb6,Kf1,Rad8,Bc4,Bh6,Ng5', 'Bxg5,Bxg5,Qxb2', 'https://lichess.org/training/k8j1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8KwK', 'Blitz', 'FM Dragonprem', 2293, 'GM Harsha_bharathakoti', 1653, 'd4,d5,c4,e6,Nc3,c6,Nf3,Nf6,Bg5,Nbd7,Qc2,h6,Bxf6,Nxf6,e3,Bd6,Bd3,dxc4,Bxc4,O-O,O-O,Qe7,e4,e5,d5,Bg4,Qd3,Rfd8,h3,Bh5,Rfe1,Bb4,Nh4,cxd5,exd5,Rac8,Nf5,Qc5,Bb3,Bg6,Rxe5,Bxc3,bxc3,Bxf5,Qxf5,Qxc3,Rd1,Rd6,Re3,Qc7,Rg3,Qd7,Qf3,Rd8,Re1,Nxd5,Re5,Nf6,Qe3,Re8,Rxe8+,Qxe8,Qxh6', 'Qe1+,Kh2,Ng4+,Rxg4,Rxh6', 'https://lichess.org/training/k8KwK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8MEY', 'Rapid', 'FRANCOCHESSMAN', 1706, 'cuneydates', 1619, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nc3,Nf6,Bg5,Be7,Nxc6,bxc6,Bd3,a5,a4,Ba6,O-O,Bxd3,cxd3,O-O,Re1,d5,e5,Nd7,Bxe7,Qxe7,d4,Qb4,Rb1,Rae8,Na2,Qe7,b4,axb4,Nxb4,f6,Nxc6,Qf7,Rb7,fxe5,Rxc7,Qxf2+,Kh1,Nf6,Nxe5,Nh5,Rc2,Qf5,Rce2,Nf4,Rf2,Qg5,g3,Nh3,Rxf8+,Rxf8,Rf1', 'Nf2+,Rxf2,Rxf2', 'https://lichess.org/training/k8MEY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8MGL', 'Blitz', 'ratitabonita-00', 1909, 'Scorpio_m', 1871, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,e3,Bd6,Be2,O-O,Bd2,b6,O-O,Bb7,Re1,Ne4,Nxe4,dxe4,Ne5,Bxe5,dxe5,Qc7,Bc3,c5,f4,exf3,Bxf3,Nc6,Bxc6,Bxc6,Qg4,Rad8,Rad1,Rd7,h4,Rfd8,h5,Bb7,h6,g6,Qg5', 'Rxd1,Qf6,Rxe1+,Bxe1,Kf8', 'https://lichess.org/training/k8MGL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K8mRK', 'Classical', 'Sudhanshu_Sharma', 1893, 'kakera', 1976, 'd4,Nf6,c4,e5,e3,e4,Nc3,d5,cxd5,Bb4,Ne2,Bg4,h3,Bxe2,Bxe2,Bxc3+,bxc3,Nxd5,c4,Nf6,O-O,O-O,Re1,Nc6,d5,Ne7,Bb2,Nf5,Qc2,Re8,Bf1,Qd6,f3,Ng3,Bxf6,Qxf6,fxe4,Nxe4,Bd3,Qh4,Rf1,g5,Rf3,Re5,Raf1,Rf8,Qb2,Re7,Rf4', 'gxf4,Rxf4,Qe1+', 'https://lichess.org/training/K8mRK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K8Nzj', 'Blitz', 'Dehau', 1917, 'buyandyoorzhak', 1930, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Qf6,e5,Qe6,Bc4,Qg6,Nc3,Ne7,Nb5,O-O,Nxc7,Rb8,O-O,Qxc2,Rac1,Qg6,Bd3,Qg5,f4,Qh6,f5,d6,e6,fxe6,Qxd6,Nxf5,Nd5,Nxd6', 'Ne7+,Kh8,Rxf8#', 'https://lichess.org/training/K8Nzj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K8ORi', 'Rapid', 'tj_1990', 2096, 'hungryabricot', 2185, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d5,a3,Bxc3+,Qxc3,Ne4,Qc2,O-O,Nf3,b6,g3,Bb7,Bg2,Nd7,b4,c5,dxc5,bxc5,Bb2,cxb4,axb4,Rc8,c5,a6,O-O,Nb8,Nd4,Nf6,Rfc1,Nc6,Nxc6,Rxc6,Be5,Nd7,Bd6,Re8,e4,Rc8,exd5,exd5,Qb3,Nb8,Bxd5,Bxd5,Qxd5,Nc6,Qc4,Ne5,Bxe5,Rxe5,Rd1,Qf6,Rxa6,Qf3,Qd3', 'Re1+,Rxe1,Qxd3', 'https://lichess.org/training/K8ORi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8Pyg', 'Rapid', 'Blime28', 1626, 'jescude', 1605, 'd4,d5,Bf4,Nf6,e3,Bg4,Nf3,c6,c3,e6,Qb3,Qc8,Ne5,Bh5,Nd2,Nbd7,Ndf3,Bxf3,Nxf3,c5,Bb5,Be7,Bxd7+,Nxd7,O-O,c4,Qb5,a6,Qa4,b5,Qc2,O-O,Ne5,Nxe5,Bxe5,f6,Bg3,Qd8,f4,a5,a3,Qe8,f5,exf5,Rxf5,Qd7,Raf1,b4,axb4,axb4,R5f2,bxc3,bxc3,Bd6,Bxd6,Qxd6,Rb1,Ra3,Rff1,Re8,Kf2,Qxh2', 'Rh1,Qc7,Qxh7+', 'https://lichess.org/training/k8Pyg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8r8k', 'Blitz', 'Layson', 2027, 'khaledl', 1933, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bc4,e6,O-O,Ngf6,Re1,Be7,a4,O-O,a5,Qc7,c3,Rad8,Qb3,Nd5,Bd2,N7f6,Ne5,Bd6,f4,Ne7,Re2,Nf5,Rf1,Nxg3,hxg3,Bf5,Kf2,Ne4+,Ke1,Nxg3,Re3,Nxf1,Kxf1,f6,Bxe6+,Bxe6,Qxe6+,Kh8', 'Ng6+,hxg6,Rh3#', 'https://lichess.org/training/k8r8k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K8RAd', 'Blitz', 'palaurian', 1826, 'sicardJa', 1885, 'd4,d6,c4,Nf6,Nc3,g6,Bg5,Bg7,e4,O-O,Nf3,c5,d5,e6,Be2,exd5,exd5,h6,Bh4,g5,Bg3,a6,a4,Bg4,O-O,Nbd7,Bxd6,Re8,h3,Bxf3,Bxf3,Nb6,Bxc5,Nxc4,Bd4,Nxb2,Qc2,Nc4,Rad1,Nd6,Rfe1,Rc8,Qd3,Rxe1+,Rxe1,Qc7,Ne4,Ndxe4,Bxe4,Nxe4,Bxg7,Kxg7,Qxe4,Qd6,Qe5+,Qxe5,Rxe5,Kf6,Re4,Rd8,Rd4,Ke5,Rd2,Rxd5,Rb2,Rd7,a5,f5,g3,Kf6,Kf1,Rd5,Rxb7,Rxa5,Ke2,Ra2+,Kf3,a5,Rb6+,Kg7,Ra6,a4,g4,fxg4+,hxg4,Ra1,Ke4,a3,Kf5,a2,Ra7+,Kh8', 'Kg6,Rd1,Ra8+,Rd8,Rxd8#', 'https://lichess.org/training/K8RAd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8SJC', 'Rapid', 'MohammedHassanin30', 2133, 'steredo', 2102, 'e4,c5,Nf3,e6,b4,Nc6,bxc5,Bxc5,d4,Be7,c3,d5,e5,a6,Bd3,f5,exf6,Nxf6,O-O,O-O,Ng5,e5,dxe5,Nxe5,Bc2,Nfg4,Nxh7,Bc5,Nxf8,Kxf8,h3,Qh4,hxg4,Nxg4,Qf3+,Kg8,Qxd5+', 'Kh8,Qd8+,Qxd8', 'https://lichess.org/training/k8SJC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8tlS', 'Blitz', 'Anonymous_JJ', 1722, 'bani_reo', 1785, 'e4,d5,Nf3,dxe4,Ng5,e5,Nxe4,Bf5,Nbc3,Nf6,Bb5+,c6,Nxf6+,Qxf6,Bc4,Bc5,O-O,O-O,d3,Nd7,Qe2,Rfe8,Be3,Rad8,Qh5,Bg6,Qg5,Bxe3,Qxf6,Nxf6,fxe3,Ng4,Rae1,b5,Bb3,a5,a4,b4,Ne4,Bxe4,dxe4,Nf6,h3,Re7,Rd1,Rdd7,g4,Nxe4,Kg2,Kf8,Kf3,Nd2+,Rxd2,Rxd2,Ke4,f6,g5,Red7,gxf6,gxf6,Rxf6+,Kg7,Rxc6,Rh2,Be6,Rdd2,Rc7+,Kf6,Bb3,Rxh3,Rc6+,Kg7,Kxe5,Rh5+,Ke4,Rh4+,Kf3,Rh3+,Ke4,Re2,Rc7+,Kf6,Rc6+,Ke7,Re6+,Kd7,Kd3,Rhh2,Re5,Rd2+,Ke4,h5,Rxa5,h4,Re5,Rdf2,a5,Rhg2,a6,Rf6', 'Ra5,Rg4+,Kd3,Rd6+,Bd5', 'https://lichess.org/training/k8tlS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k8uar', 'Rapid', 'M-F-O', 1979, 'Gersongarcia', 2061, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bb5,Bd7,Be3,a6,Bxc6,Bxc6,Nxc6,bxc6,Qf3,e5,O-O-O,Be7,h4,O-O,g4,Rb8,Qe2,Qa5,g5,Nd7,Qc4,Rfc8,g6,hxg6,h5,gxh5,Rxh5,Nf6,Rh8+,Kxh8,Qxf7,Nh7,Rh1,Qd8,Qg6,Qg8,Ne2,Rf8,Ng3,Rf6,Qg4,Rbf8,Nf5,Rxf5,exf5,Bf6,c4,d5,Bc5,Re8,Be3,dxc4,Kc2,e4,Bf4,c3,b3,a5,Qg6,a4', 'Rxh7+,Qxh7,Qxe8+', 'https://lichess.org/training/k8uar');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K8Xtk', 'Blitz', 'GeometricWolf', 1582, 'Garal', 1710, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,O-O,d3,d5,exd5,Bg4,O-O,c6,Bg5,Qd6,Bxf6,Qxf6,Ne4,Qe7,dxc6,Nxc6,h3,Bh5,Nxc5,Qxc5,g4,Bg6,Re1,Rfe8,Nh4,Na5,Nxg6,Nxc4,Nxe5,Nxe5,d4,Nf3+,Qxf3,Qxd4,Qxb7,Reb8,Qe4,Qxb2,Kg2,Qf6,Rab1,Rd8,Rb7,h6,Qe7,Qc6+,Kg1,Rf8,Rxa7,Rxa7,Qxa7,Qxc2,a4,f5,Re7,Qc1+,Kg2,Qc6+,f3,Qc2+,Kg3,f4+,Kh4,Qc3,a5,Rd8,Qc7', 'Qf6+,g5,Qxg5#', 'https://lichess.org/training/K8Xtk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K90Ux', 'Rapid', 'Ladiagonale', 1837, 'Timofey', 1759, 'd4,d5,c4,Nf6,Nf3,Bf5,Nc3,e6,Bg5,Be7,cxd5,exd5,e3,h6,Bh4,c6,h3,Ne4,Bxe7,Qxe7,Rc1,Nd7,Be2,O-O,O-O,Qe6,Bd3,Ng3,Re1,Bxd3,Qxd3,Nf5,Ne2,Nf6,Nf4,Qe4,Qb3,Rab8,Ne5,Nh4,f3,Qh7,Re2,Rfe8,Qa3,a6,Qd6,Rbd8,Qc7,Rf8,Qxb7,Qf5,Nxc6,Rd7,Qxa6,Qg5,Ne5,Re7,Qd6,Rxe5,Qxe5', 'Nxf3+,Kh1,Nxe5', 'https://lichess.org/training/K90Ux');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K913T', 'Rapid', 'katieduong1', 2008, 'JeffMagalhaes', 1804, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,Bd3,O-O,Bg5,d6,O-O,Bxc3,bxc3,Be6,f4,h6,Bh4,exf4,Nd4,Nxd4,cxd4,g5,Bf2,Kg7,d5,Bg4,Qd2,Qe7,Bd4,Rfe8,Rae1,Qc7,g3,f3,h3,Bxh3,Rxf3,Re5,Bxe5,dxe5,Bf1,g4,Rc3,Qb6+,Qf2,Bxf1,Rxf1', 'Qxf2+,Rxf2,Nxe4,Rc7,Nxf2', 'https://lichess.org/training/K913T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K91EO', 'Blitz', 'wildleax', 1631, 'ajedrez3500', 1627, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Bg4,f3,Bd7,a3,Qb6,b4,Nb7,Bb2,Bd6,Nc3,O-O,Na4,Qc7,O-O,c5,bxc5,Bxc5+,Nxc5,Qxc5+,Kh1,Bb5,Qe2,a6,Bxb5,axb5,d3,Rfe8,Ne4,Nxe4,dxe4,Rad8,Rfd1,Rxd1+,Rxd1,Rd8,Rxd8+,Nxd8,Qd3,Ne6,g3,Qf2,Qd1,f6,Bc1,h5,Bd2,Ng5,Be1', 'Qf1#', 'https://lichess.org/training/K91EO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K91FH', 'Rapid', 'Gorsucc', 1725, 'AllGasNoBrakes', 1714, 'e4,e5,Nc3,Nf6,f4,d6,Bc4,Nc6,Nf3,Bg4,d3,Nd4,fxe5,dxe5,Be3,Nxf3+,gxf3,Bd7,Rg1,Bb4,Bd2,Bc5,Rxg7,Nd5,Bxd5', 'Qh4+,Rg3,Qxh2,Qe2,Qxg3+', 'https://lichess.org/training/K91FH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k934O', 'Classical', 'PanTomcio', 1816, 'Jeanmarieroy', 1752, 'e4,c5,d4,Nf6,Nf3,Nxe4,Bc4,e6,O-O,d5,Bb5+,Bd7,Bxd7+,Nxd7,dxc5,Nexc5,c3,Be7,Be3,Qb6,b4,Qc7,bxc5,Nxc5,Bxc5,Bxc5,Qa4+,Ke7,Nd4,a6,Re1,b5,Qd1,Rhd8,Nf5+,Kf8,Nd4,Qf4,Qf3,Qxf3,Nxf3,Be7,Ne5,Rac8,Re3,d4,Rf3,f6,a4,Kg8,Ng4,dxc3,Nxc3,b4,Ne2,a5,Rg3,Kf8,Nf4,Kf7,Nh5,Rc3,Ne3,Rdc8,Rxg7+,Kf8,Rxh7', 'Rc1+,Rxc1,Rxc1+,Nf1,b3', 'https://lichess.org/training/k934O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k98Sy', 'Rapid', 'Ordenoverbroen', 1893, 'LLLyka', 1903, 'd4,d5,c4,e6,Nf3,c5,Bg5,Be7,Bxe7,Qxe7,cxd5,exd5,Nc3,Nf6,dxc5,Qxc5,Rc1,O-O,e4,dxe4,Nxe4,Qa5+,Ned2,Re8+,Be2,Bg4,O-O,Nc6,a3,Qh5,h3,Bxh3,gxh3,Qxh3,Nh2,Rad8,Re1,Nd4,Bf1,Qh4,Rxe8+,Nxe8,Ndf3', 'Nxf3+,Qxf3,Qg5+,Kh1,Qxc1', 'https://lichess.org/training/k98Sy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K9a3D', 'Blitz', 'FM SutorminDA', 2570, 'ZhohoFF', 2552, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,g6,Bg2,Bg7,O-O,Nge7,c3,O-O,Re1,b5,Nf1,b4,Bd2,bxc3,bxc3,Rb8,Qc2,Ba6,e5,Nf5,Kh1,Qa5,g4,Nfe7,Bg5,Qa3,Bc1,Qa5,N1d2,Qb5,Bf1,Qb7,Nb3,c4,Nc5,Qb5,d4,Rfd8,h4,Qa5,Bh3,Rb5,Kg2,Rxc5,dxc5,Qxc5,Be3,d4,cxd4,Qd5,Kg3,Nb4,Qa4,Bb7,Bg2,Nd3,Reb1,Ba8,Qxa7,h5,Qxe7,hxg4,Rb5,Qxb5,Qxd8+,Kh7,Qxa8,Qb2,Ng5+,Kh6,Nxf7+,Kh7,Ng5+,Kh6,Nxe6+,Kh7,Ng5+,Kh6,Qg8,Bxe5+,f4,Bxf4+,Kxg4', 'Qxg2#', 'https://lichess.org/training/K9a3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K9aoI', 'Rapid', 'Gandalfs', 1867, 'budunovma', 1885, 'e4,c5,f4,Nc6,Nf3,g6,b3,Bg7,Nc3,d6,Bb2,Nf6,Nd5,Nxd5', 'Bxg7,Nxf4,Bxh8', 'https://lichess.org/training/K9aoI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k9as8', 'Rapid', 'troy2012', 1839, 'Wolseong', 1837, 'Nf3,d5,d4,e6,e3,c5,c4,Nc6,a3,Nf6,Bd3,cxd4,exd4,Be7,c5,O-O,O-O,b6,b4,bxc5,bxc5,Qc7,g3,e5,dxe5,Nxe5,Nxe5,Qxe5,Ra2,Bxc5,Re1,Qd6,Bb2,Ng4,Re2,Bb7,Bf5,Bc8,Bxc8,Raxc8,Nc3,a6,Ba1,h5,Red2,Nf6,Nxd5,Ne4', 'Nf6+,Qxf6,Bxf6', 'https://lichess.org/training/k9as8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k9eh2', 'Blitz', 'ManojArora', 1818, 'sharghireza', 1895, 'e4,e5,d4,Nf6,dxe5,Nxe4,Bd3,Nxf2,Kxf2,Bc5+,Be3,Bxe3+,Kxe3,Qg5+,Ke2,Qxg2+,Ke3,Qxh1,Be4,Qxh2,Nd2,Nc6,Ndf3,Qh6+,Ke2,O-O,Qd3,d5,Bf5,Bxf5,Qxf5,Rae8,Re1,d4,Nh3,Qe3+,Kf1,Qh6,Nfg5,d3,cxd3,Nd4,Qe4,Ne6,Qf5,Nxg5,Nxg5,Qh1+,Kf2,Qh4+,Kf1,Qh1+,Kf2,Qh6,Kg2,g6,Qf6,Rd8,Rh1,Qg7,Qf4,h6,Ne4,g5,Nf6+,Kh8,Qf5,Qg6', 'Qxg6,fxg6,Rxh6+,Kg7,Rh7#', 'https://lichess.org/training/k9eh2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k9EXO', 'Rapid', 'makuka', 1659, 'baskoroi', 1652, 'e4,e5,Bc4,Nh6,Nf3,Bc5,Nxe5,O-O,d4,d6,dxc5,dxe5,Qh5', 'Bg4,Qxg4,Nxg4', 'https://lichess.org/training/k9EXO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K9IG4', 'Rapid', 'diego1666', 1672, 'prince276', 1725, 'e4,c5,c3,d5,e5,Nc6,Nf3,a6,d4,Bg4,Be3,cxd4,Bxd4,Qd7,Be2,Bxf3,Bxf3,Qe6,O-O,g6,Qb3,Rd8,Qxb7,Nxd4,cxd4,Bg7,Nc3,Rd7,Bxd5', 'Rxb7,Bxe6,fxe6', 'https://lichess.org/training/K9IG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k9ktq', 'Blitz', 'alina83', 1676, 'Dartfon', 1931, 'g3,Nf6,Bg2,g6,e3,Bg7,Ne2,O-O,O-O,Nc6,d4,d5,c4,dxc4,Nbc3,a6,b3,cxb3,Qxb3,b5,Bxc6,Rb8,Bg2,Be6,d5,Bd7,e4,e6,dxe6,Bxe6,Qb2,Qd7,Bg5,Bh3,Bxf6,Bxf6,Nf4,Bxg2,Kxg2,b4,Nfd5,Bxc3,Nxc3,bxc3,Qxc3,f5,exf5,Rxf5,Qc4+,Qd5+,Qxd5+,Rxd5,Rad1,Rxd1,Rxd1,Rb2,Ra1,c5,a4,c4,a5,c3,Rc1,c2,h4,Kf7,Kf3,Ke6,Ke4,Ra2,Kd3,Rxa5,Rxc2,Kd5,Rd2,Ke5,Ke3,Ra3+,Ke2,Ke4,Kf1,Kf3,Kg1,Ra1+,Kh2,Rf1,Kh3,Rxf2,Rd3+,Ke4,Rd7,h5,Rg7,Rf6,g4,hxg4+,Kxg4,a5,Kg5,Rf1,Rxg6', 'Rg1+,Kh6,Rxg6+,Kxg6,a4', 'https://lichess.org/training/k9ktq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k9O7i', 'Blitz', 'v_oliv', 1914, 'marcoistres', 1780, 'd4,d5,c4,c6,cxd5,Qa5+,Bd2,Qxd5,Nf3,Bg4,e3,Nf6,Be2,e6,O-O,Bd6,Nc3,Qh5,h3,Bxh3,gxh3,Qxh3,Re1,Nbd7,e4,Ng4,e5,Ndxe5,dxe5,Bxe5,Bc4', 'Bh2+,Nxh2,Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/k9O7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k9PqW', 'Rapid', 'Majidmkt', 1689, 'Sculler', 1780, 'd4,c6,Nf3,d5,Bf4,Bg4,e3,e6,Nbd2,a6,h3,Bh5,Bd3,c5,c3,cxd4,cxd4,Bb4,Bxb8,Rxb8', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/k9PqW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K9qwe', 'Rapid', 'hrishikeshabhi', 1775, 'RanvirK', 1752, 'e4,c5,Nf3,e6,c3,Nc6,d3,Nf6,Bg5,Be7,d4,cxd4,cxd4,Nxe4,Bxe7,Qxe7,Qd3,Nf6,Be2,Nb4,Qb3,O-O,O-O,d5,a3,Nc6,Qd3,h6,Bd1,Qc7,Bc2,Qb6,Ne5,Qxb2,Nc3,Qb6,Ng4,Qxd4', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/K9qwe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k9sc2', 'Blitz', 'Winterisc', 1811, 'Moura_da_vila', 1837, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,Nf6,Be3,g6,Be2,Bg7,Qd2,O-O,O-O-O,Re8,Rdg1,Bg4,h3,Bf5,Bh6,Ne4,Nxe4,Bxe4,Bxg7,Kxg7,h4,h5,g4,hxg4,Rxg4,Bf5,Rg3,Qb6,h5,Rh8,Rhg1,Kf8,hxg6,Bxg6,Ne5,Nxe5,dxe5,Qc6,f4,e6,Bd3,Bxd3,Qxd3,Rc8,Rf1,Rh2,c3,Qb6,b3,Qa5,a4,Qc5,f5,Qa3+,Kd1,Qxb3+,Ke1,exf5,Qxf5,Rc7,e6,Re7', 'Qxf7+,Rxf7,Rxf7+,Ke8,Rg8#', 'https://lichess.org/training/k9sc2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('k9v0m', 'Rapid', 'Alexander2010', 1719, 'Ragim05', 1750, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Bxf2+,Kxf2,Nxe5,d4,Ng6,Bc4,Qf6+,Kg1,d6,Nd5,Qd8,Qf3,Be6,Bd2,c6,Ne3,Nf6,Rf1,O-O,d5,cxd5,exd5,Bd7,Bd3,Qb6,b3,Rae8,Rf2,Bb5,c4,Bd7,a3,Qxb3,Nc2,Ne5', 'Bxh7+,Kxh7,Qxb3', 'https://lichess.org/training/k9v0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('K9Zkt', 'Bullet', 'aldeanos', 1870, 'Mr-win', 1941, 'e4,c5,Nf3,d6,c3,Nf6,d4,Nxe4,Bd3,Nf6,O-O,e6,Re1,Be7,Bg5,O-O,Nbd2,Nc6,Nf1,cxd4,cxd4,Nb4,Bb1,Nbd5,Ng3,h6,Bd2,a6,Qc1,b5,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/K9Zkt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kA09L', 'Rapid', 'SkyIsland', 1895, 'Canarion47', 1988, 'e4,c5,Nf3,e6,c3,Qc7,d4,a6,d5,Nf6,dxe6,dxe6,e5,Ng4', 'Qa4+,Nd7,Qxg4', 'https://lichess.org/training/kA09L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ka0Zg', 'Blitz', 'gilmas', 1767, 'manel2017', 1656, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,Nf6,Bc4,d6,Bg5,Bxf5,exf5,Be7,O-O,O-O,Nc3,a6,a4,Nd4,Bd3,Qc7,Bxf6,Bxf6,Nd5,Qd8,f4,Rc8,c3,Nc6,Qg4,Re8,Rf3,Kh8,Rh3,exf4,Qh5,h6,Qxf7,Ne5,Qxb7,Nxd3,Rxd3,Bg5,Rad1,Rc4,b3,Rce4,Qf7,Re1+,Rxe1,Rxe1+,Kf2,Bh4+,g3,fxg3+,hxg3,Qg5,Kxe1,Bxg3+,Kd1,Qg4+,Kc1,Bf4+,Kb1,Qg1+,Ka2,Qf2+,Ka3', 'Bc1+,Kb4,Qc5#', 'https://lichess.org/training/ka0Zg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ka4XT', 'Rapid', 'ChessNPress', 1619, 'Wolf1219', 1621, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nge7,Be3,Nxd4,Bxd4,Nc6,Bc3,d6,f3,Be6,Nd2,Qd7,Bc4,O-O-O,Qe2,d5,O-O-O,dxc4,Nxc4,Qe8,a3,Rxd1+,Rxd1,Bxc4,Qxc4,Qe6,Qa4,Qg6,b4,Bd6,b5,Nb8,Qxa7,Rd8,e5,Bxe5', 'Rxd8+,Kxd8,Qxb8+,Kd7,Bxe5', 'https://lichess.org/training/ka4XT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kA4Ym', 'Blitz', 'luansantos', 1986, 'Remuloaguiarfreitas', 2227, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bd3,Nf6,O-O,Bc5,Be3,Bxe3,fxe3,d6,Nc3,Qb6,Qc1,Ng4,Rf3,O-O,h3,Nh6,a4,a5,Rb1,f5,exf5,Bxf5,Bxf5,Nxf5,Qd2,e4,Nxe4,Rae8,Nxd6,Nxd6,Qxd6,Rxf3,gxf3,Qxe3+,Kg2,Qg5+,Qg3', 'Re2+,Kf1,Qxg3', 'https://lichess.org/training/kA4Ym');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KA53n', 'Blitz', 'Tobu1997', 2294, 'lavictoriavenezuela', 2297, 'd4,d5,Nf3,Bf5,g3,e6,Bg2,c5,O-O,Nc6,c4,Nf6,Qa4,Qd7,cxd5,Nxd5,Nc3,Be7,dxc5,Bxc5,Rd1,Nxc3,bxc3,Qe7,Nd4,O-O,Bxc6,bxc6,Nxf5,exf5,e3,Qe6,Ba3,Bxa3,Qxa3,h6,Rd6,Qe4,Rad1,a5,Qc5,Rfc8,R6d4,Qc2,R4d2,Qe4,Rd4,Qf3,R1d2,Rab8,Rd1,Rb2,R4d2,Rcb8,Qd4,Rxd2,Qxd2,h5,Re1,h4,Qe2,Qxe2,Rxe2,h3,f3', 'Rb1+,Kf2,Rh1,Re1,Rxh2+', 'https://lichess.org/training/KA53n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KA5nW', 'Blitz', 'FM SF-46', 2581, 'MaBex', 2094, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,h3,Bh5,Bc4,Ne4,Bd2,Nxd2,Qxd2,Bxf3,gxf3,Nc6,O-O-O,g6,Qf4,f5,d5,Nd8,Nb5,Rc8,Qe5,Nf7,Qe6,Rd8,Nxc7+,Qxc7,d6,Rxd6,Qxf7+,Kd8,Rxd6+,exd6', 'Qf6+,Qe7,Qxh8', 'https://lichess.org/training/KA5nW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KA5t5', 'Blitz', 'FM lexisvar', 2591, 'VladimirTambov', 2470, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,cxd4,cxd4,Qb6,Nc3,Nh6,O-O,Nf5,Na4,Qd8,g4,Nh4,Nxh4,Qxh4,Be3,Be7,Rc1,O-O,Nc5,Bxc5,Rxc5,f6,f4,fxe5,fxe5,Rxf1+,Qxf1,Rf8,Qg2', 'Qe1+,Qf1,Rxf1+', 'https://lichess.org/training/KA5t5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ka7Ql', 'Rapid', 'waelkhalil', 2093, 'ashilov', 2172, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,Bb4,f3,d5,Bg5,d4,a3,Be7,Bxf6,Bxf6,Nd5,Be6,Nxf6+,Qxf6,Nc5,b6,Nxe6,Qxe6,Bd3,O-O,O-O,Nd7,c3,dxc3,bxc3,Nc5,Qe2,Rfd8,Bc4,Qe7,f4,exf4,Rxf4,Ne6,Rf2,b5,Bd5,Ra7,a4,bxa4,Rxa4,Qd6,h3,Qb6,Kh2,a5,Qa2,Qc7+,Kh1,Qxc3,Bxe6,fxe6,Qxe6+,Kh8,Rc4', 'Qe1+,Kh2,Qxf2', 'https://lichess.org/training/Ka7Ql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KA8mJ', 'Blitz', 'Jack_ili', 1981, 'parakh31', 2047, 'e4,d5,exd5,Nf6,Nf3,Bg4,Nc3,c6,dxc6,Nxc6,d3,e6,Bg5,Be7,Qd2,O-O,h3,Bxf3,gxf3,Nd4,Bg2,Rc8,O-O-O,Bb4,Bxf6,Qxf6,Kb1,e5,Rhg1,Qb6,Ka1,Nb5,Nd5,Bxd2,Nxb6,Rxc2,Nd7,Rfc8,Nxe5,Bc3,Nc4,Rxc4,dxc4', 'Bxb2+,Kb1,Na3#', 'https://lichess.org/training/KA8mJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ka8rn', 'Rapid', 'emreozatakan', 2089, 'white_slonik', 2136, 'e4,e5,Nf3,Nf6,d4,Nxe4,Bd3,Nc6,Bxe4,d5,Nxe5,Nxe5,dxe5,dxe4,Qxd8+,Kxd8,Nc3,Bb4,Bd2,Bf5,O-O-O,Bxc3,Bxc3+,Ke7,Rd2,Rad8,Rhd1,Bg4', 'Bb4+,Ke6,Rxd8,Rxd8,Rxd8', 'https://lichess.org/training/ka8rn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kAdlj', 'Rapid', 'novajesus', 1616, 'mrCat978', 1609, 'e4,c6,c3,d5,e5,e6,d4,g6,Nf3,Qc7,Ng5,c5,Qa4+,Bd7,Qd1,cxd4,cxd4,Bh6,Nc3,Nc6,Nb5,Qb6,Nd6+,Kf8,Ngxf7,Bxc1,Qxc1,Qxd4,Nxh8', 'Qxe5+,Be2,Qxd6', 'https://lichess.org/training/kAdlj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kaEsI', 'Rapid', 'justin3_tst', 2197, 'nasrzedan', 2091, 'd4,d5,Bf4,Bf5,e3,e6,c4,c6,Qb3,Qb6,c5,Qxb3,axb3,a6,Nc3,Nd7,b4,Rc8,Nf3,Ngf6,h3,Be7,Nd2,h6,Nb3,Bd8,Be2,O-O,O-O,Bc2,Na5,Bxa5,Rxa5,Rfe8,Rfa1,e5,Bh2,exd4,exd4,Ne4,Bxa6,bxa6,Rxa6,Nxc3,bxc3,Bd3,Ra7,Nf6,Be5,Ne4,R1a3,f6,Bf4,g5,Bd6,Kh8,f3,Nd2,Be7,Nc4,Bxf6+,Kg8,Rg7+,Kf8,Raa7,Re2,Rh7,Bxh7,Rxh7,Rce8,Rxh6,Re1+,Kh2,Ne3,Bxg5,Nf1+,Kg1,Ng3+,Kf2', 'Nh1#', 'https://lichess.org/training/kaEsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kAf44', 'Rapid', 'BerryK', 1666, 'tiredtiger', 1664, 'd4,Nf6,Bf4,d6,Nf3,g6,Qd2,Bg7,Bh6,O-O,Bxg7,Kxg7,e3,Bg4,h3,Bxf3,gxf3,Nbd7,h4,h5,Be2,c5,f4,Ne4,Qd3,Ndf6,Rg1,cxd4,Qxd4,Kh6,Nd2,Nxd2,Qxd2,Qb6,O-O-O,Ne4,Qe1,Rfc8,f3,Qc5,Bd3,Nf6,Qg3,Nd5,Qg5+,Kg7,f5,Qxe3+,Qxe3,Nxe3,Rde1,Nd5,fxg6,f6,Be4,Nb4,Kb1,d5,Bf5,Rc7,c3,Nc6,Be6,Ne5,Bxd5,Re8,Be4,e6,f4,Ng4,f5,exf5,Bxf5,Rxe1+,Rxe1,Ne5,Bc2,Nf3,Rh1,Rc4,Bd1,Rxh4', 'Bxf3,Rxh1+,Bxh1', 'https://lichess.org/training/kAf44');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kAgvr', 'Blitz', 'duracell233', 2118, 'froggy88', 1933, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,Nf3,Bd6,Bd3,Bg4,O-O,Ne7,h3,Bh5,g4,Bg6,Ne5,Bxe5,dxe5,Qb6,Kg2,h5,Bxg6,Nxg6,e6,fxe6,Qd3,Nh4+,Kg3,hxg4,hxg4,Nd7,Bg5,Ne5,Qe2,Nhf3,Bf4,Qc7,Bxe5,Qxe5+,Kxf3', 'Rh3+,Kg2,Qh2#', 'https://lichess.org/training/kAgvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KAHLJ', 'Rapid', 'duynguyen255', 1648, 'GerySantana', 1639, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,h3,O-O,d3,Qd4,Be3,Qe5,Bxc5,Qxc5,Qf3,Be6,Be2,Qd4,O-O,Qd7,a4,h6,Rad1,g6,e5,Nh7,d4,Ng5,Qe3,Bd5,h4,Nh7,Qxh6,Qf5,Bd3,Qg4,f3,Qxd4+,Kh1,Qxe5,Nxd5,cxd5,Rfe1,Qg3,h5,Qh4+,Kg1,Qd4+,Kf1,Qh4,Bxg6,Qh1+,Kf2,Qh4+,Kg1,fxg6,Qxg6+,Kh8,h6,Rg8,Qe6,Rae8', 'Qxe8,Rxe8,Rxe8+,Nf8,Rxf8+', 'https://lichess.org/training/KAHLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KAida', 'Rapid', 'Albi71', 1713, 'MirekVeverka', 1675, 'e4,d6,Nf3,e5,d4,exd4,Nxd4,c5,Nf5,Bxf5,exf5,Nf6,Bc4,Be7,O-O,O-O,b3,Nc6,Bb2,a6,Bd5,Rc8,Bxc6,Rxc6,c4,b5,cxb5,axb5,Nc3,b4,Nd5,Nxd5,Qxd5,Qd7,f4,Bd8,Rae1,Kh8,Re2,f6,Rfe1,Rc8,Rd1,Bc7,Rde1,Rce8,a3,bxa3,Bxa3,Bb6,Kh1,Rxe2,Rxe2,Rd8,Re6,Qb5,Qc4,Qc6,h3,h6,b4,Ra8,b5,Qc7,Qd3,Ra4,Rxd6', 'Rxa3,Qxa3,Qxd6', 'https://lichess.org/training/KAida');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KAiGM', 'Rapid', 'Omarzaki01110', 1860, 'LeXuSBisHOP', 1832, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Be7,Bc4,Bg4,h3,Bh5,g4,Bg6,Nh4,O-O,Nxg6,hxg6,Be3,Nd7,Qd2,Re8,O-O-O,b5,Bb3,Qc7,h4,a5,a3,a4,Ba2,Rab8,h5,g5,h6,g6,h7+,Kh8,Bxf7,Red8,Bxg6,Ne5,Bf5,Nc4,Qd3,Nd6,Be6,b4,axb4,Rxb4,d5,cxd5,Bxd5,Nc4,Qg6,Nxb2,Qg8+,Rxg8', 'hxg8=Q#', 'https://lichess.org/training/KAiGM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KAIlZ', 'Rapid', 'Hasanbarslan42', 1913, 'peapodschess', 1907, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Rg1,b5,g4,Bb7,Bd3,e5,Nf5,g6,g5,Nfd7,Ne3,Nc5,Ncd5,Nbd7,b4,Nxd3+,Qxd3,Bg7,Bb2,Nb6,f4,Na4,Bc1,exf4,Ng4,Bxa1,Ngf6+,Bxf6,Nxf6+,Kf8,Bxf4,Qb6', 'Nd7+,Kg8,Nxb6', 'https://lichess.org/training/KAIlZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KAjRR', 'Rapid', 'Kajames', 1831, 'Konrad1', 1864, 'd3,c5,c4,Nc6,Nc3,e6,Nf3,Nf6,g3,d5,b3,d4,Ne4,Nxe4,dxe4,e5,Bg2,Be7,Bd2,O-O,O-O,a6,a3,b5,Ne1,Bb7,Nd3,h6,Qc2,Qb6,f4,f6,f5,a5,Rac1,b4,axb4,axb4,Ra1,Na5,Ra2,Ra6,Rfa1,Rfa8,Nf2,Qa7,Nd3,Nxb3', 'Rxa6,Bxa6,Qxb3', 'https://lichess.org/training/KAjRR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KAjtk', 'Rapid', 'prados', 1801, 'cplyakap1905', 1900, 'd4,f5,a4,g6,a5,Bg7,c3,e5,dxe5,Bxe5,Qd5,Qf6,Nf3,d6,a6,c6,axb7,Bxb7,Qb3,Qf7,Qxf7+,Kxf7,Nxe5+,dxe5,e3,Nf6,Bc4+,Nd5,O-O,Kf6,Nd2,Rd8,e4,Nf4,exf5,gxf5,Nf3,c5,Bxf4,exf4,Ne1,Nc6,Nf3,Ne5,Nxe5,Kxe5,Rfe1+,Kf6,f3,Re8,Rec1,Re7,Ra5,Rg7,Be2,Rag8,Rxa7,Rxg2+,Kh1,Rxe2,Rxb7,h5,Rb6+,Ke7,Rh6,Rg5,b4,cxb4,cxb4,Rb2,Rb6,Rgg2,Re1+,Kf7,Rb7+,Kg6', 'Re6+,Kg5,Rg7+,Kh4,Rxg2,Rb1+,Rg1', 'https://lichess.org/training/KAjtk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KAk5f', 'Rapid', 'kkalin', 1753, 'freechaser', 1785, 'e4,e5,c4,Nc6,Nc3,Bc5,d3,h6,Nf3,d6,Be2,Nf6,Nd5,Bd7,O-O,Nxd5,cxd5,Nd4,a3,Bg4', 'Nxd4,Bxd4,Bxg4', 'https://lichess.org/training/KAk5f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kAK9k', 'Rapid', 'm_tavares70', 1742, 'evkar14', 1661, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Nf6,O-O,a6,Ba4,b5,Bb3,Bb7,c3,Be7,Re1,O-O,d4,exd4,cxd4,Nb4,Nbd2,Nd3,Re3,Nf4,Nf1,Nxh3+,gxh3,Nxe4,N1h2,Ng5,d5,Bc8,Kg2,Nxh3,Ng1,Nf4+,Kf1,Bh4,Rf3,Ng6,Bc2,Ne5,Re3,f5,Qh5,Bg5,Rh3,h6,Nhf3,Nxf3,Nxf3,Bxc1,Rxc1,f4,Qg6,Bxh3+,Kg1,Rf6,Qh7+,Kf8,Qh8+,Ke7', 'Qxg7+,Rf7,Re1+', 'https://lichess.org/training/kAK9k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kAKWq', 'Rapid', 'graycloud', 1689, 'eliyo123', 1613, 'd4,d5,c4,Nf6,Nf3,Qd7,Nc3,dxc4,Bf4,e6,e3,Bb4,Bxc4,Bxc3+,bxc3,Ne4,Qc2,f5,O-O,b5,Bd3,Bb7,Rab1,a6,a4,O-O,axb5,axb5,Bxb5,Bc6,Ne5,Qd5,Bc4,Qd8,Bxe6+,Kh8,Nxc6,Nxc6,Rb7,Qe7,Bd5,Ra6,Rxc7,Qf6,Bxe4,fxe4,Qxe4,Nd8,Be5', 'Qxf2+,Rxf2,Ra1+,Qb1,Rxb1+,Rf1,Rbxf1#', 'https://lichess.org/training/kAKWq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KalGx', 'Bullet', 'dranocrepus', 1759, 'WhiteScarab', 1617, 'Nc3,g6,e4,Bg7,Bc4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,f4,b5,Bb3,Bb7,O-O,Ne7,f5,b4,f6,Bxf6,Rxf6,bxc3,Qf3,O-O,Qxc3,Nbc6,Bh6,Nd5,Bxd5,exd5,Ne6,dxe6', 'Rxg6+,fxg6,Qg7#', 'https://lichess.org/training/KalGx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KaM2f', 'Blitz', 'rexrexrex', 1812, 'Sylvester009', 1811, 'e4,e5,Bc4,Nc6,Nc3,Be7,Nf3,Nf6,d3,O-O,h3,a6,a3,d6,Be3,h6,Qc1,g5,h4,g4,Bxh6,gxf3', 'Qg5+,Kh7,Qg7#', 'https://lichess.org/training/KaM2f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kAMDS', 'Rapid', 'kdp0007', 2158, 'Khakhanov', 2213, 'd4,e6,Nf3,c5,c3,Nf6,Bf4,Be7,e3,O-O,Be2,b6,O-O,Bb7,Ne5,d6,Bf3,Bxf3,Qxf3,Nd5,Nd3,Nd7,Bg3,f6,e4,Nc7,dxc5,Nxc5,Nxc5,bxc5,Nd2,Rb8,b3,Nb5,c4,Nd4,Qg4,f5,exf5,exf5,Qd1,f4,Nf3,fxg3,Nxd4,gxh2+,Kxh2,cxd4,Qxd4,Bf6,Qd5+,Kh8,Rad1,Be5+,g3,Qh4+,Kg2,Rxf2+,Kxf2,Qh2+,Kf3,Rf8+,Ke4', 'Qe2#', 'https://lichess.org/training/kAMDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kAmm4', 'Classical', 'Kostanjoglo', 1698, 'antoniusca', 1798, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qxe4+,Qe2,Qxe2+,Kxe2,Bg4,d4,O-O-O,Rd1,Nf6,h3,Bf5,c3,h6,Kf1,c5,Ne5,Be6,Be3,Bd6,Nd2,Nd5,Ndf3,Nxe3+,fxe3,Bd5,Rd2,Rhe8,Rad1,Bxf3,gxf3,Bxe5,dxe5,Rxd2,Rxd2,Rxe5,Kf2,f5,f4,Re6,Rd5,g6,Rxc5,Rd6,Ke2,b6,Re5,Kd7,c4,c6,b4,Re6,Rxe6,Kxe6,h4,Kd6,a4,a5,b5,Kc5,bxc6,Kxc6,Kd3,Kc5,Kc3,Kd6,Kd4,Ke6', 'c5,bxc5+,Kxc5', 'https://lichess.org/training/kAmm4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kamod', 'Blitz', 'FM Ryan-Rhys', 2471, 'Enmanuel091', 2365, 'e4,c5,Nf3,d6,Bb5+,Nd7,d4,cxd4,Qxd4,a6,Bxd7+,Bxd7,O-O,Bg4,Nfd2,e6,c4,Nf6,Nc3,Be7,Na4,Nd7', 'Qxg7,Bf6,Qxg4', 'https://lichess.org/training/Kamod');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kan0t', 'Classical', 'mirbart', 1738, 'farmvillaine', 1616, 'e4,d5,d4,dxe4,Nc3,Nf6,Bg5,Nc6,Bxf6,exf6,Bb5,Bb4,a3,Ba5,d5,a6,dxc6,Qxd1+,Rxd1,Bxc3+,bxc3,axb5,cxb7,Bxb7,Ra1,Ke7,Ne2,Rhd8,O-O,Rd2,Nd4,Ra5,Rfe1,Bd5,f3,c5,Nf5+,Kf8,fxe4,Bc6,Rad1,Rd7,Rxd7,Bxd7,Rd1,Bxf5,exf5,Ke7,Rd5,c4,Kf2,g6,g4,Rxa3,Rxb5,Rxc3,Rb2,Kd6,Ke2,Ke5,Kd2,Kd4,Rb7,gxf5', 'Rd7+,Ke5,Kxc3', 'https://lichess.org/training/Kan0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KAo5x', 'Rapid', 'DrBreaker', 2153, 'Masoretes', 2045, 'd4,c5,d5,g6,Bf4,Bg7,Nc3,e5,dxe6,fxe6,Ne4,d5,Nd6+,Ke7,e4,Nf6,e5,Qa5+,Bd2,Qb6,exf6+,Bxf6,Nxc8+,Rxc8,Bc3,d4,Bd2,Qxb2,Nf3,d3,Rc1,c4,cxd3,c3,Bg5,Bxg5,Nxg5,c2,Qd2,Nc6,Rxc2,Qe5+,Be2,Nd4,Rxc8,Rxc8,Ne4,Rc2,Qb4+,Ke8,Bg4', 'Rc1+,Bd1,Nc2+', 'https://lichess.org/training/KAo5x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kaOBM', 'Rapid', 'dario1989', 1825, 'PKeres', 1909, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Nf3,Bd6,Bd3,O-O,O-O,Re8,h3,c5,Bg5,Be6,dxc5,Bxc5,Re1,h6,Bh4,Nbd7,Qd2,Nf8,Na4,Be7,b4,Rc8,Nd4,Bd7,Bb5,Ne4,Bxe7,Rxe7,Qd3,Ng6,Bxd7,Qxd7,Nc5,Nxc5,bxc5,Rxc5,Rxe7,Qxe7,Qg3,Qf6,Qb8+,Kh7,Rd1,b6,Qxa7,Ra5,Qd7,Rxa2,Qxd5,Nf4,Qe4+,Ng6,Nf3,Qc3,Rb1,Qc7,Qb4,Rxc2,Qxb6', 'Rc1+,Rxc1,Qxb6', 'https://lichess.org/training/kaOBM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kAq6K', 'Classical', 'COPHIS', 1686, 'MontyKrysto', 1688, 'e4,e6,Nf3,Nc6,d4,b6,Nc3,Bb4,Bd2,Nge7,a3,Bxc3,Bxc3,d5,Bd3,dxe4,Bxe4,Bb7,O-O,O-O,Re1,Kh8,Ne5,f6,Nxc6,Bxc6,Bxc6,Nxc6,Rxe6,Qd7,d5,Rf7,Rxc6,Re8,Rc4,Rfe7,Qf3,Qb5,Rb4,Qc5,g3,a5,Bd4,Qxc2,Qb3,Re1+,Rxe1,Rxe1+,Kg2,Qe4+,Qf3,Rg1+,Kxg1,Qxf3,Rc4,Qxd5,Rxc7,h6,Bxb6,Kh7,Rc5,Qa2,Bxa5,Qxb2,Bb4,Qb1+,Kg2,Qe4+,Kg1,g5,Rc7+,Kg6,h3,h5,Rc8,Kh7,Rc7+,Kg8,Rc8+,Kf7,Rc7+,Ke8', 'Re7+,Qxe7,Bxe7', 'https://lichess.org/training/kAq6K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KaqGw', 'Rapid', 'Xarnial', 1839, 'Pawiscorpio', 1860, 'f4,d5,Nf3,e6,e3,Be7,c4,c6,cxd5,cxd5,Nc3,Nf6,Bb5+,Bd7,Qa4,O-O,Bxd7,Nbxd7,d4,Nb6,Qc2,Nc4,b3,Nd6,O-O,Nde4,Nxe4,Nxe4,Bb2,Rc8,Qe2,Rc6,Ne5,Rc7,Rac1,f6,Ng4,Bb4,Rfd1,Qe7,Nf2,Nd6,Nd3,Ne4', 'Rxc7,Qxc7,Nxb4', 'https://lichess.org/training/KaqGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kAR5z', 'Blitz', 'lohithv', 1816, 'younsi64', 1903, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,Bg4,Nc3,h5,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/kAR5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KasBY', 'Blitz', 'IAmPatronDesChess', 1587, 'aleksvilo', 1523, 'c4,e5,g3,Bc5,Bg2,Nf6,e3,Nc6,Ne2,O-O,O-O,d6,b3,Bg4,Re1,e4,Nbc3,d5,cxd5,Nxd5,Bxe4', 'Nxc3,dxc3,Qxd1,Rxd1,Bxe2', 'https://lichess.org/training/KasBY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('katKP', 'Classical', 'youngmurphy', 1722, 'NICK424zzz', 1646, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Nd7,Nc3,c5,Be3,Qc7,Nb5,Qb6,Kf1,a6,Nd6+,Bxd6,exd6,cxd4', 'Bxd4,Qxd6,Bxg7,Ne7,Bxh8', 'https://lichess.org/training/katKP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KatVo', 'Classical', 'Vernongrove2', 2208, 'SlavkoPutar', 2001, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,cxd4,cxd4,f6,exf6,Nxf6,Nf3,Bd6,O-O,O-O,Bg5,e5,dxe5,Nxe5,Nxe5,Bxe5,Qd2,Qb6,Nc3,Be6,Bh4,Qd4,Bg3,Bxg3', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/KatVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KAtYJ', 'Rapid', 'vfrcbvec1952', 2323, 'CM PchelkinVK', 2503, 'e4,e6,d4,d5,Nd2,c5,exd5,Qxd5,dxc5,Bxc5,Ngf3,Nf6,Bc4,Qh5,O-O,Nc6,Nb3,Bb6,Qd6,Bd7,Bf4,Rc8,Qa3,Qg4,Bxe6,Bxe6,Bd6,Bd5,Rfe1+,Kd7,Bg3,Qb4', 'Ne5+,Nxe5,Qxb4', 'https://lichess.org/training/KAtYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kaU21', 'Classical', 'atasefa', 1647, 'Netormozi', 1692, 'e3,e5,b3,Nc6,Bb2,Bb4,Bb5,d6,Qf3,Nf6,Bxc6+,bxc6,Qxc6+,Bd7,Qf3,Bg4,Qg3,h5,h3,Ne4,Qh2,Qf6,f3,Qh4+,g3,Nxg3', 'hxg4,Qxh2,Rxh2', 'https://lichess.org/training/kaU21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KAUwi', 'Blitz', 'narihira_ariwara', 1830, 'Alexander_Kiselev', 1941, 'Nf3,d5,d4,Nf6,c4,e6,g3,dxc4,Qa4+,Nbd7,Qxc4,a6,Bg2,b5,Qc2,Bb7,O-O,c5,Bg5,h6,Bxf6,Qxf6,dxc5,Bxc5,Rd1,Rc8,Qd2,Nb6,Nc3,O-O,Rac1,Nc4,Qc2,Ne5,Nxe5', 'Qxf2+,Kh1,Bxg2#', 'https://lichess.org/training/KAUwi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kAvy4', 'Rapid', 'Xx-OTTOMAN_xX', 2038, 'tfgklm', 2046, 'Nf3,c5,c4,g6,b3,Bg7,Nc3,Nf6,Bb2,Nc6,e3,d6,d4,cxd4,Nxd4,Bd7,Be2,O-O,O-O,a6,Bf3,Rb8,Nxc6,Bxc6,Qe2,Qc7,Rfd1,Nd7,Rac1,Ne5,Nd5,Qd8,Bxe5,Bxe5,e4,e6,Ne3,Qg5,Ng4,Bf4,Rc2,h5,Ne3,Qh4', 'g3,Qg5,h4,Qh6,gxf4', 'https://lichess.org/training/kAvy4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KawYC', 'Blitz', 'pytou', 2288, 'Andrei1966', 2186, 'd4,d5,c4,c6,Nc3,e6,e4,Nf6,e5,Nfd7,cxd5,exd5,Bd3,Be7,Nf3,O-O,O-O,f5,Qc2,g6,Bh6,Re8,g4,Nf8,gxf5,Qd7,Kh1,gxf5,Rg1+,Ng6,Rg2,Kh8,Rag1,Rg8,Ne2,Qe6,Nf4,Qf7,Bg5,Nxf4,Bxf4,Rxg2,Rxg2,Be6,Ng5,Bxg5,Bxg5,Nd7,f4,Rg8,Qf2,Qh5,Be2,Qf7,Qh4,Rg7,Qh6,Rg6,Qh4,Rg7,Bh5,Qg8,Qh3,b6,Qh4,c5,Bf6,Nxf6,Qxf6,Bc8,Be2,c4,Bf3,Bb7,h4,h6,Qxh6+,Qh7,Qxh7+,Kxh7,Rg5,Rxg5,fxg5,Kg6,Kh2,b5,Kg3,b4,Kf4,a5,h5+,Kg7,Kxf5,a4,Bd1,Bc6,a3,c3,axb4,cxb2,Bc2,a3,Bb1,Ba4,h6+,Kh8,Kf6,Bc2,Bxc2,a2,g6,b1=Q', 'g7+,Kg8,h7#', 'https://lichess.org/training/KawYC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kaY1c', 'Classical', 'JudoCalypso', 1788, 'fselpo', 1825, 'd4,d5,Bf4,c6,e3,e6,Bd3,Nf6,Nf3,Be7,c3,O-O,Nbd2,Re8,Ne5,Bd6,Ndf3,Qc7,h4,Nbd7,g4,Nxg4,Bxh7+,Kxh7,Ng5+,Kg8,Qxg4,Nxe5,dxe5,Bxe5,Nh7,Kxh7', 'Qh5+,Kg8,Bxe5', 'https://lichess.org/training/kaY1c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kAz03', 'Rapid', 'Dayor', 1684, 'Dotard', 1670, 'd4,d5,c4,c6,Nf3,Nf6,Bg5,dxc4,Bxf6,exf6,e4,b5,Be2,Bb4+,Nc3,O-O,O-O,Bg4,d5,a6,a4,Qc7,axb5,cxb5,Nxb5,Qb6,Bxc4,Nd7,Nbd4,Ne5,b3,Bc3,h3,Bxa1,Qxa1,Nxf3+,gxf3,Bxh3,Rc1,Rfc8,Nc6,Qc7,Qc3,Qf4,Ne7+,Kh8,Nxc8', 'Qg5+,Kh2,Qg2#', 'https://lichess.org/training/kAz03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KAZVe', 'Rapid', 'christian2002', 2020, 'YahirAFC', 2129, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,O-O,Nf3,c5,O-O,Nc6,d3,d5,cxd5,Nxd5,Bd2,h6,Rb1,Rb8,Nxd5,Qxd5,Bc3,Qxa2,Bxg7,Kxg7,Qd2,Qe6,Qc3+,Kg8,Qxc5,Qxe2,Nd4,Nxd4,Qxd4,Bf5,Rfe1,Qxd3,Qxd3,Bxd3,Rbd1,Bf5,Rxe7,Rfe8,Rxb7,Rxb7,Bxb7,Rb8,Bc6,Rxb2,Rd8+,Kg7,h4,Rb6,Bf3,Rb3,Kg2,Bh3+,Kxh3,Rxf3,Ra8,Ra3,Kg2,Kf6,Kh3,Ke6,Kg2,Kd7,Kh3,h5,Kg2,Ra5,Kf3,Kc7,Kg2,Kb7,Rf8,Rf5,f3,a5,g4,hxg4,fxg4,Rf6,Re8,Kb6,Rb8+,Kc5,Ra8,Kb4,Rb8+,Kc5,Rc8+,Kb5,Rb8+,Rb6', 'Rxb6+,Kxb6,h5,a4,h6', 'https://lichess.org/training/KAZVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kB6NW', 'Rapid', 'liohyio', 1763, 'wellingtonrss', 1704, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,d5,Bg5,Bc5,Nbd2,h6,Bxf6,gxf6,exd5,Qxd5,Ne4,Be7,Be2,Bg4,O-O,O-O-O,Qc2,Kb8,Rad1,f5,Ng3,f4,Ne4,f5,Ned2,h5,Qb3,Qxb3,Nxb3,h4,h3,Bxf3,Bxf3,e4,dxe4,fxe4,Bg4,Rdg8,Rd7,f3,Nd4,fxg2,Kxg2,Nxd4,Rxd4,Bd6,Rxe4,a6,Rfe1,Ka7,Rc4,b6,Ree4,Rf8,Bd7,Bc5,Rf4,Rfg8+,Kf3,Rd8,Bc6,Rd3+,Ke2,Rxh3,Rf7,Kb8,Rg4,Rh2,Rgg7,h3,Rxc7,Rxf2+,Kd1,Rd8+,Kc1', 'Be3+,Kb1,Rd1#', 'https://lichess.org/training/kB6NW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kb8C2', 'Rapid', 'jmlucan', 2360, 'Art-Vega', 2256, 'd4,Nf6,c4,e6,e3,b6,Nc3,Bb4,Bd2,Bb7,Nf3,O-O,Be2,d6,O-O,Nbd7,a3,Bxc3,Bxc3,Ne4,Re1,f5,Nd2,Qh4,Nxe4,fxe4,d5,Qxf2+,Kh1,Nc5,b4,Nd3,Bxd3,exd3,Qxd3,Qh4,Rf1,exd5,cxd5,Rae8,Rxf8+,Rxf8,e4,Re8,Re1,Bc8,Re3,Bd7,h3,Re7,e5,dxe5,Bxe5,Qf2,Kh2,Bb5,Qc3,Be8,Rf3,Qa2,d6,cxd6,Bxd6,Rf7,Qc8,Qe2,Rxf7,Kxf7', 'Qf5+,Kg8,Qf8#', 'https://lichess.org/training/kb8C2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KB8e8', 'Classical', 'Notch9engr', 1713, 'dobs70', 1787, 'd4,d6,Bf4,e6,e3,Be7,Nf3,Nd7,c3,Nf8,Bb5+,c6,Bd3,Nf6,h3,Nh5,Bh2,Nf6,e4,Ng6,e5,Nd5,Qd2,Nh4,Nxh4,Bxh4,O-O,dxe5,Bxe5,O-O,f4,f6,Bxf6,Nxf6,Qe3,Nd5,Qe5,Bg3,Qh5,h6,Nd2,Bxf4,Nf3,Be3+,Kh1,Nf4,Qe5,Nxd3,Qxe3,Nxb2,Qe2,Na4,Qc2,Nb6,Ne5,Nd5,Rxf8+,Qxf8,Ng6,Qf6,Kg1,Qg5,Rf1,Bd7,Qd3,Ne3,Rf2,Nf5,Ne5,Be8,Qc4,Bg6,Qxe6+,Kh7,Nf7,Qc1+,Kh2,Qxc3,Rxf5,Qxd4,Rf2,Rf8,Ng5+,hxg5,Rxf8,c5,Qg4', 'Qd6+,Kg1,Qxf8', 'https://lichess.org/training/KB8e8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kb8px', 'Classical', 'nopasaranne', 1877, 'VitasF', 1639, 'e4,e6,d4,c5,Nf3,b6,d5,Qf6,e5,Qg6,d6,Bb7,Nc3,f6,Nh4,Qf7,Be3,fxe5,Nb5,Na6,Bc4,Nf6,Nf3,Ne4,Nxe5,Qf6,f4,Qh4+,g3,Nxg3,Bf2,Bxh1,Bxg3,Qf6,Nc7+,Nxc7,dxc7,d6,Bb5+,Ke7,Bc6,Rc8,Nc4,Bxc6', 'Qxd6+,Kf7,Qxc6', 'https://lichess.org/training/kb8px');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kBalE', 'Rapid', 'sokwaw', 2009, 'Stockfish_level_6', 2113, 'e4,c5,Nf3,e6,Nc3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,Nb5,O-O,e5,Nd5,Bxe7,Qxe7,Bd3,a6,Nd6,f6,Qh4,g6,Ne4,Qb4+,c3,Qxb2,O-O,Qa3,exf6,b5,Qg3,Nxf6,Nxf6+,Rxf6,h4,Qc5,h5,Qxh5,Rfe1,Bb7,Be4,Bxe4,Rxe4,Raf8,Rh4,Qe2,f3,Qe3+,Kh1,Qxc3,Rd1,d5,Rdd4,Qa1+,Kh2,Qxa2,Qc7,R8f7,Qd8+,Kg7', 'Rxh7+,Kxh7,Rh4+,Kg7,Qh8#', 'https://lichess.org/training/kBalE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KbAQT', 'Classical', 'AyanMaster2012', 1613, 'AlbertoX', 1821, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e4,Bc5,Nxe5,O-O,Nxc6,dxc6,Be2,Qd4,O-O,Nxe4,Nxe4,Qxe4,b3,Re8,Bf3,Qe5,Rb1,Bd6,g3,Bh3,Bg2', 'Bxg2,Bb2,Qe4', 'https://lichess.org/training/KbAQT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kbcgb', 'Blitz', 'DiegoTumba_PUCP', 1808, 'RodrigoMoreno_PUCP', 1800, 'e4,c5,Nf3,g6,g3,d5,exd5,Qxd5,Nc3,Qd8,Bg2,Bg7,O-O,Nf6,d3,O-O,h3,Nc6,Be3,Nd4,Rb1,Re8,Ne4,Nxe4,dxe4,Nxf3+,Bxf3,Qa5,Bg2,Be6,c3,Red8,Qc2,Rd7,a3,Rad8,Rfd1,Bc4,Rxd7,Rxd7,Rd1,Rxd1+,Qxd1,Qc7,a4,b6,b3,Be6,c4,Kf8,Kh2,Ke8,Qd3,Qd7,Qxd7+,Kxd7,a5,Bc3,axb6,axb6,Bf1,f5,Bd3,fxe4,Bxe4,Kd6,Bf4+,Be5,Be3,Bd7,Kg2,Bc6,Bxc6,Kxc6,h4,b5,Kf3,bxc4,bxc4,Bf6,Ke4,e6,Bd2,Bd4,f4,Bf2,Kf3,Bd4,g4,Kd6,h5,e5,hxg6,hxg6,fxe5+,Kxe5,Bf4+,Ke6,Ke4,Bf2,Be3', 'Bxe3,Kxe3,Ke5,Kf3,Kd4,Kf4,Kxc4', 'https://lichess.org/training/kbcgb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kBDbX', 'Classical', 'pancasero', 1856, 'ChiefJab', 1758, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Nf3,Bb4,a3,Bxc3+,bxc3,O-O,Bd3,Nc6,O-O,Qa5,Bb2,Rd8,Re1,Bd7,h3,Rac8,c5,b6,cxb6,Qxb6,Rb1,Qa5,Qe2,Rb8,Ne5,Nxe5,Qxe5,Bb5,Qe3,Bxd3,Qxd3,Rb3,f3,Rdb8,Qc2,Ne8,Ba1,Rxb1,Rxb1,Rxb1+,Qxb1,Qxa3,Kh2,h6,Qb8,Kf8,Bb2,Qa2,Qb4+,Kg8,Ba3,Kh7,Qf8,Nf6,Be7,Nh5,Qxf7,Qd2,Bd6,Qxc3,Qxe6,Nf6,Qf5+,Kh8,Be5,Qc6,Qg6,a5,Qb1,a4,Qb8+,Kh7,Qb1+,Kg8,Qb8+,Kf7,h4,Nd7,Qa7,Kg6,Kh3,Nxe5,dxe5,Qe6+,g4,Qxe5,Qxa4,d4,Qc2+,Kf7,Qc4+,Kf6,Qc6+,Qe6,Qc2,Qd7,Qd3,Kf7,h5,Qd5,Qg6+,Kg8,Qe8+,Kh7,Qg6+,Kh8,Qe8+,Kh7,Qg6+,Kh8,Qe8+,Qg8,Qxg8+,Kxg8,Kg2,Kf7,Kf2,Ke6,Ke2', 'Ke5,Kd2,Kf4', 'https://lichess.org/training/kBDbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KBDH9', 'Classical', 'Irisblue', 1719, 'Diro', 1608, 'e4,b6,d4,Bb7,Nc3,e6,Be3,Bb4,Qd3,Nf6,f3,Ba6,Qd2,Bxf1,Kxf1,O-O,a3,Be7,Nge2,c5,Ng3,cxd4,Bxd4,Nc6,Be3,d5,exd5,exd5,Nf5,Bc5,Bh6,Nh5,Nxd5,gxh6,g4,Qg5', 'Nxh6+,Qxh6,Qxh6', 'https://lichess.org/training/KBDH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KBDHM', 'Blitz', 'MouthPocketDevourer', 2183, 'NM upandcomer', 2271, 'e4,c6,Nc3,d5,Nf3,Bg4,exd5,cxd5,d4,Nc6,Be2,e6,O-O,Bd6,h3,Bh5,Re1,Nge7,Bg5,f6,Be3,a6,a3,O-O,Rc1,Bf7,Na4,b5,Nc5,Qc7,c3,Ng6,b4,Kh8,Ra1,Bg8,Bd3,e5,Bxg6,hxg6,dxe5,fxe5,Qc2,e4,Nd4,Bxc5,bxc5,Ne5,c6,Nxc6,Nxc6,Qxc6,Bd4,Rf5,Re3,Raf8,Rf1,g5,Qe2,Qg6,Rg3,Be6,Ra1,Rf4,a4,Bd7,a5,g4,hxg4,Rxg4,Rxg4,Bxg4,Qe3,Bf3,Kf1,Qxg2+,Ke1,Qh1+,Kd2,Qxa1', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/KBDHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kbeDZ', 'Rapid', 'ga1974', 1737, 'Alavi-1399', 1715, 'Nf3,e5,Nxe5,Qe7,Nf3,Nc6,e3,Nf6,Bb5,Ne5,O-O,c6,Be2,Neg4,b3,Qd6,Bb2,Be7,d3,b5,Nbd2,Bb7,h3,Nh6,e4,Qc7,Nh4,Bd6,f4,Bc5+,Kh1,Be3,f5,Bg5,Nhf3,Be3,Bxf6,gxf6,Nh4,Bg5,Ndf3,Bf4,Nd4,d5,Nhf3,a6,c4,c5,Nc2,dxc4,bxc4,O-O-O,cxb5,axb5,d4,Bxe4,Na3,Bxf3,Bxf3,Rxd4,Qc2,Qb6,Rab1,b4,Nc4,Qb5,Bb7+,Kxb7,Rxf4,Rhd8,Rxd4,Rxd4,Ne3,c4,Rd1,Rxd1+,Qxd1,Nxf5,Nxf5,Qxf5,Qa4,Qb1+,Kh2,c3,Qd7+,Kb6,Qd8+,Kb5,Qe8+,Kc4,Qxf7+,Kd3', 'Qxh7+,Kc4,Qxb1', 'https://lichess.org/training/kbeDZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KbfKr', 'Rapid', 'Ufo84', 2391, 'Patchiny456', 2442, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bg4,Be3,Qb6,Qc1,Bxf3,gxf3,Qa5+,c3,Qf5,Be2,Bd6,Qb1,Qh3,Qe4+,Qe6,Bc4,Qxe4,fxe4,Nd7,O-O-O,O-O,f4,Nb6,Bb3,Rfe8,e5,fxe5,fxe5,Bf8,Rdf1,Nd5,Bd2,Rad8,Rf3,b5,Rhf1,Rd7,Rg1,a5,Rfg3,g6,h4,a4,Bc2,a3,b3,b4,c4,Nc3,Bxc3,bxc3,Rg4,c5,dxc5,Rxe5,b4,Rd2,R4g2,Bh6,Kb1', 'Rxg2,Rxg2,Re1+,Bd1,Rxd1+', 'https://lichess.org/training/KbfKr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KBhp1', 'Rapid', 'SamDooley', 2094, 'lfcallera', 1777, 'Nf3,e6,g3,d5,Bg2,c6,O-O,Nf6,d4,Nbd7,Nfd2,b6,c4,Bb7,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bg2,Be7,Nc3,O-O,Be3,Qc7,Qa4,a6,Rac1,Rac8,Qb3,e5,d5,c5,Na4,Nd7,Rfd1,Bd6,Qd3,a5,Nc3,Ba6,Ne4,f5,Nxd6,Qxd6,b3,Rce8,Qc3,f4,Bd2,fxg3,hxg3,Rf7,Bh3,Ref8,Be6,Nf6,Qe3,Bc8,Bxf7+,Rxf7,Kh2,Ng4+,Kg2,Nxe3+,Bxe3,e4,Rh1,h6,Rh4,Qd7,Rch1,Qf5,Rf4,Qg6,Rxf7,Qxf7,Rh4,Qf3+,Kf1,Qd1+,Kg2,Bf5,Rf4,Bg6,Kh2,Qa1,Kg2,Qe5,Kh2,Qh5+,Kg2,Qe5,Kh2,Qd6,Kg2,a4,Kh2,a3,Kg2,Bf7,Rxe4,b5,Bf4,Qg6,Re5,bxc4,bxc4,Qc2,d6,Qxc4', 'd7,Qd4,Re8+,Kh7,d8=Q,Bxe8,Qxe8', 'https://lichess.org/training/KBhp1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KbhtR', 'Rapid', 'sosho', 1789, 'alexandre2015', 1707, 'd4,Nf6,f4,d5,Nf3,e6,e3,c5,Bd3,Nc6,c3,Bd6,O-O,O-O,Ne5,Ne7,Nd2,b6,Ndf3,Bb7,Bd2,h6,Be1,c4,Bc2,Ne4,Bh4,f6,Ng4,Nf5,Qe1,Nxh4,Qxh4,b5,Nxh6+,gxh6,Qxh6,Rf7,Qh4,Qe7,Bxe4,dxe4,Nd2,Rh7,Qg3+,Kf8,Qf2,Qg7,a4,a6,axb5,axb5,Rxa8+,Bxa8,Ra1,Bd5,Ra6,Bc7,Ra7,Ke8,Nb1,Qg4,Na3,Bxf4,Rxh7', 'Qd1+,Qf1,Bxe3+,Kh1,Qxf1#', 'https://lichess.org/training/KbhtR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kBi5g', 'Rapid', 'marco_sharko', 2054, 'Serval123', 2021, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nf6,Bd3,Bxd3,Qxd3,e6,Bf4,Bd6,Ne5,Nd5,Nxf7,Kxf7,Qg6+,Kf8,Be5,Bxe5,dxe5,Nf4,Qe4,Nd5,O-O-O,Qg5+,f4,Qxf4+', 'Qxf4+,Nxf4,Rd8+,Ke7,Rxh8', 'https://lichess.org/training/kBi5g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KBIvx', 'Rapid', 'ademayar', 1902, 'Morozmoroz', 1892, 'd4,d5,Bf4,e6,Nf3,Bd6,Bg3,Nf6,e3,O-O,Bd3,b6,c3,Bb7,Nbd2,Ne4,Qc2,f5,Ne5,c5,O-O-O,c4,Be2,Nc6,h4,Nxg3,fxg3,Nxe5,dxe5,Bxe5,g4,f4,Nf3,Bd6', 'Ng5,g6,Nxe6,Qe7,Nxf8', 'https://lichess.org/training/KBIvx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KbJBA', 'Rapid', 'N7_Shepard', 1925, 'ChessStarterPack1', 1832, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Nc3,Ng4,f3,h5,fxg4,hxg4,Qe2,Qd4,Bd2,g3,h3,Qb4,O-O-O,a5,Nd5,Qa4,Nxc7+,Kf8,Nxa8,Qxa2,Bc3,Bg4,Qxg4', 'Be3+,Rd2,Qa1#', 'https://lichess.org/training/KbJBA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KBmdf', 'Rapid', 'Albatrossw', 1627, 'Verile', 1733, 'g3,d5,Bg2,e5,e4,Nf6,exd5,Nxd5,d3,Bd6,Nf3,O-O,O-O,f6,Nc3,Nxc3,bxc3,Bf5,Nh4,Bd7,Bb2,Nc6,d4,exd4,cxd4,Re8,d5,Ne5,Qh5', 'Bg4,Qxe8+,Qxe8', 'https://lichess.org/training/KBmdf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KBMZi', 'Blitz', 'atrchi89', 1594, 'setaben', 1542, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,h6,Bh4,Be7,e3,O-O,cxd5,Nxd5,Bxe7,Nxe7,Nf3,Nbc6,Bd3,b6,O-O,Bb7,Be4,f5,Bc2,Nb4,Bb1,f4,a3,Nbd5,Nxd5,Nxd5,Qd3,Rf5,Nh4,Qxh4,g3,fxg3,hxg3,Qh1+,Kxh1,Nxe3+,Kh2', 'Rh5+,Kg1,Rh1#', 'https://lichess.org/training/KBMZi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KbnLi', 'Blitz', 'sensenom', 1696, 'funslayer', 1735, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Be2,Bb4,O-O,Nf6,Bg5,O-O,Ne4,Be7,c3,Nxe4,Bxe7,Qxe7,Qc2,Nf6,Bd3,g6,Rfe1,Nd8,c4,c6,Rad1,a5,b3,b5,cxb5,cxb5,Bxb5,Ba6,Ba4,Nb7,Ne5,Nd6,h3,Nd5,Bc6,Rac8,Qb2,Bb7,Ba4,Rc7,Ng4,Rfc8,Rd2,Nb4,d5,Rc2,Rxc2,Rxc2', 'Nh6+,Kf8,Qh8#', 'https://lichess.org/training/KbnLi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kbny4', 'Blitz', 'Kapik1337', 2435, 'NM pneumatico94', 2394, 'e4,g6,Nc3,Bg7,h4,c5,h5,Nc6,Bc4,e6,d3,Nge7,hxg6,hxg6,Rxh8+,Bxh8,Bg5,a6,a4,Qc7,Nh3,d5,exd5,exd5,Nxd5,Nxd5,Bxd5,Bxh3,gxh3,Bxb2,Qe2+,Kf8,Rb1,Re8', 'Bh6+,Bg7,Bxg7+,Kxg7,Qxe8', 'https://lichess.org/training/Kbny4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kBOOr', 'Rapid', 'F-Lew', 1722, 'Aayansh_Pati8x8', 1626, 'e4,e5,Nf3,Nc6,Bc4,Nd4,d3,Nxf3+,Qxf3,Qe7,Nc3,g6,Nd5,Qc5,Nxc7+,Kd8,Qxf7,Kxc7,Be3,Qd6,O-O,Nh6,Qd5,Qxd5,Bxd5,Ng4,h3,Nxe3,fxe3,Bc5,d4,exd4,b4,Bxb4,exd4,Bc3,Rab1,Bxd4+,Kh1,Rb8,c3,Bxc3,Rbc1,Kb6,Rxc3,Ka6,Rf6+,b6,Ra3+,Kb5,Rb3+,Ka4,a3,b5,e5,b4,axb4,Rxb4,Re3,Rb1+,Kh2,Rb4,Rf2,Ba6,Ra2+,Kb5,e6,dxe6,Rxe6,Bc8,Rxa7,Bxe6,Bxe6,Ra4', 'Bd7+,Kb6,Rxa4', 'https://lichess.org/training/kBOOr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kBqHI', 'Rapid', 'gergochess', 1746, 'Ali1818', 1773, 'e4,e5,Bc4,Bc5,Nf3,Nc6,d3,h6,h3,d6,Be3,Bxe3,fxe3,Nge7,O-O,O-O,Nbd2,Kh7,c3,Be6,d4,exd4,exd4,d5,Bb3,dxe4,Nxe4,Nd5,Qd3,g6,Bxd5,Bxd5,Rae1,Kg7,Qe3,Re8,Qf4,Bc4,Rf2,Re6,b3,Ba6,Nc5,Rxe1+,Nxe1,Qe7,Nf3,Bb5,a4,Ba6,Nxa6,bxa6,Ne5,Nxe5,Qxe5+,Qxe5,dxe5,Re8,Re2,g5,Kf2,Kg6,g4,h5,Re4,f6,e6,f5,gxh5+,Kxh5,Re5,Kg6,Rc5,Rxe6,Rxc7,Rb6,b4,Rd6,Rxa7,Rd2+,Ke3,Rh2,Rxa6+,Kh5,Ra8,Rxh3+,Kd4,Rh4+,Kd3,g4,Rh8+,Kg5,Rxh4,Kxh4,Ke2,g3,Kf1', 'Kh3,Kg1,f4,b5,f3', 'https://lichess.org/training/kBqHI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KbQQh', 'Rapid', 'CristobalaZo', 1841, 'SMR39', 2035, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,bxc6,Bc4,Nf6,Bg5,Be7,f3,O-O,O-O,h6,Bh4,Nh7,Bxe7,Qxe7,Nc3,Qf6,f4,Rad8,Qf3,Qd4+,Kh1,Qxc4,f5,Nf6,Rad1,Rfe8,Rfe1,Qb4,b3,Re5,Rd3,Rde8,Rde3,Nxe4,Nxe4,Rxe4,Rxe4', 'Qxe1+,Rxe1,Rxe1+,Qf1,Rxf1#', 'https://lichess.org/training/KbQQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KBRoC', 'Bullet', 'popieluszko', 1606, 'playerok', 1612, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Bd7,Be3,e6,Be2,Be7,Ndb5,Bc6,e5,dxe5,Qxd8+,Bxd8,Nd6+,Ke7,Bc5,Nbd7', 'Nf5+,Ke8,Nxg7#', 'https://lichess.org/training/KBRoC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kbYT5', 'Rapid', 'Da1e', 2061, 'KeithRollin', 2105, 'd4,Nf6,Bf4,d5,Nf3,Bf5,e3,e6,Bd3,Bg6,Bxg6,hxg6,Nbd2,c6,h3,Bd6,Bxd6,Qxd6,a3,Nbd7,c4,O-O,b4,e5,c5,Qc7,O-O,Rfe8,Rb1,a6,a4,Re7,b5,Rae8,bxc6,bxc6,dxe5,Nxe5,Nxe5,Rxe5,Nf3,Re4,Rb6,Rc4,Rxa6,Rxc5,Qd3,Rc4,Rb1,Rb8,Nd4,Kh7,g3,Qc8,Rxb8,Qxa6,Kg2,Qxa4,Nf3,Ne4,h4,Qa7,Rd8,Qe7,Ra8,f6,Ra2,Qc5,Re2,Nc3,Re1,Ne4,Re2,Rc3,Qd1,Rc1,Qd3,Qa5,Qd4,Rc4,Qd1,Qa3,Nd4,Nc3,Qd3,Qa1,Rd2,Qe1,Nf3,Qc1,Rc2,Qa1,Nd4,Qb1', 'Rxc3,Qxd3,Rxd3', 'https://lichess.org/training/kbYT5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KbzcI', 'Rapid', 'am1324', 1666, 'MehmetCigdem', 1654, 'd4,d5,c4,Nf6,e3,Bf5,Nf3,Nc6,cxd5,Qxd5,Nc3,Qa5,Be2,e6,O-O,Bd6,Bd2,Bb4,a3,Bxc3,bxc3,Qd5,c4,Qd6,Qb3,Rb8,Bc3,Ng4,c5,Qd5,Bc4,Qd7,Bb5,a6,Bc4,b5,Be2,Qd5,Qb2,O-O,h3,Nf6,Qd2,Nd7,Rfc1,e5,Nxe5,Ncxe5,dxe5,Qxd2,Bxd2,Nxe5,Bc3,Nd7,Bd4,Rfe8,a4,c6,axb5,cxb5,c6,Ne5,Rxa6,Rbc8,Bxb5,Re7,Rb6,Be4,Rb7,Nxc6,Bxc6', 'Rxb7,Bxe4,Rxc1+', 'https://lichess.org/training/KbzcI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KbZFS', 'Classical', 'win_21', 1681, 'aleksandrshevchenko', 1990, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bd3,d5,exd5,Qxd5,O-O,Bxc3,bxc3,O-O,Be3,a6,h3,b5,a4,Bb7,f3,bxa4,Rxa4,Nbd7,Qd2,Nc5,Ra5,Rfc8,Rb1,Qd7,Rxc5,Rxc5,Nxe6,Rxc3,Nxg7,Rxd3,cxd3,Kxg7,Bh6+,Kh8,Qg5,Qd4+,Kh1,Rg8,Qd2,Bd5,Be3,Qh4,Rb4,Ng4,fxg4,h5,Bf2', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/KbZFS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KBZhy', 'Rapid', 'SlayerfromNorth', 1858, 'merame', 1771, 'd4,d5,c4,dxc4,e4,Nc6,Nf3,Bg4,d5,Ne5,Bf4,Nxf3+,gxf3,Bd7,Bxc4,Bh3,Nc3,a6,Qa4+,b5,Nxb5,axb5', 'Bxb5+,Bd7,Bxd7+,Qxd7,Qxa8+', 'https://lichess.org/training/KBZhy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kc054', 'Blitz', 'ArtemZapara', 2083, 'spkarabo', 2038, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Bd3,Be7,O-O,O-O,c4,a6,Be3,d6,Nc3,Be6,Nd5,Bxd5,cxd5,Nb8,Rc1,Nbd7,Bb1,b5,Qd2,Rc8,f3,Rxc1,Rxc1,Qb8,Na5,Rc8,Nc6,Rxc6,dxc6,Nb6,Qa5,Nc4,c7,Qc8,Rxc4,bxc4,Bb6,Nd7,Bc2,Kf8,b3,cxb3,Bxb3,Ke8,Bc4,Nxb6,Qxb6,Kd7,Bxf7,Qxc7,Qxa6,Bh4,Qc4', 'Qb6+,Kh1,Qb1+,Qc1,Qxc1#', 'https://lichess.org/training/kc054');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kc1Dy', 'Classical', 'madybady', 1826, 'Lehong', 1775, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,a3,Be7,h3,O-O,O-O,h6,Be3,Qc7,Bd3,Rd8,f4,d5,e5,Nd7,f5,Ndxe5,fxe6,fxe6,Qh5,Bf8,Nxc6,bxc6,Bf4,Bd6,Bxe5,Bxe5,Qg6,Bf6,Qh7+,Kf8', 'Rxf6+,gxf6,Qxc7', 'https://lichess.org/training/Kc1Dy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kc1IR', 'Blitz', 'Rosel8801', 1676, 'Tonraf', 1665, 'd3,e5,Nf3,Nc6,e4,Bc5,Nc3,a6,Be3,Ba7,Qd2,d6,d4,Bg4,Be2,Bxf3,Bxf3,h6,d5,Nce7,Bxa7,Rxa7,O-O,Nf6,Be2,O-O,f4,exf4,Qxf4,Nh7,Rf3,Ng6,Qe3,Ra8,Rg3,Kh8,Bh5,Ne5,Ne2,f5,exf5,Rxf5,Bg6,Rf8,Nd4,Nf6,Ne6,Nxd5,Qd2,Qf6,Nxf8,Rxf8,Qxd5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/kc1IR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kC1YE', 'Rapid', 'rhmihaidar', 1847, 'ponemate', 1868, 'e4,a6,d4,b5,f4,Bb7,Bd3,e6,Nf3,Be7,O-O,h5,Nc3,h4,h3,Nf6,Be3,b4,e5,bxc3,exf6,Bxf6,bxc3,Nc6,Be4,Qc8,Rb1,Na5,Bxb7,Nxb7,Qd3,Nd6,c4,Nf5,Bf2,Ng3,Rfe1,c6,c3,Qc7,d5,Qxf4,dxe6,fxe6,Rb7,O-O,Qxd7,Qxc4,Ng5,Bxc3,Rxe6,Qf1+,Kh2,Qxf2,Rg6,Nf1+,Kh1,Qd4,Qe6+,Kh8,Nf7+,Rxf7,Qxf7,Ne3', 'Rh6+,gxh6,Qh7#', 'https://lichess.org/training/kC1YE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kc4RT', 'Blitz', 'ohlalau', 1951, 'Temuujin_A', 1927, 'e4,e5,Nf3,d6,Bc4,f5,O-O,fxe4,Ne1,Nf6,d3,d5,Bb3,exd3,Nxd3,Bd6,Bg5,c6,Re1,O-O,Nxe5,Bxe5,Rxe5,Qc7,f4,Nbd7,Re1,Ne4,Bh4,Qb6+,Kh1,Nf2+,Bxf2,Qxf2,Nc3,Qxf4,Bxd5+,cxd5,Nxd5,Qh4,Ne7+,Kh8,Qd5,Nf6,Qc5,Bg4,Re3,Qf2,Rae1,Rae8,h3,h6,Ng6+,Kh7,Nxf8+,Rxf8,Qxf8,Bxh3,R3e2', 'Bxg2+,Kh2,Ng4#', 'https://lichess.org/training/kc4RT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kc6bd', 'Rapid', 'elliderandres', 1931, 'direstraits', 1729, 'e4,c5,f4,Nc6,Nf3,e6,Bc4,d5,exd5,exd5,Qe2+,Be7,Bb5,Nf6,Ne5,Bd7,Nxd7,Qxd7,O-O,O-O,Bxc6,bxc6,Re1,Rfe8,Qf3,c4,d3,Bc5+,Be3,Bxe3+,Rxe3,Rxe3,Qxe3,Re8,Qd2,Qg4,h3,Re2', 'hxg4,Rxd2,Nxd2', 'https://lichess.org/training/kc6bd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kc70E', 'Blitz', 'monkeyking123', 2790, 'GM Macrofago', 2669, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Qb6,Nb3,Qc7,Nc3,a6,Bd3,b5,O-O,Bb7,f4,b4,Nb1,Nf6,Qe2,d6,N1d2,Be7,Nf3,Nbd7,Bd2,O-O,Kh1,a5,Rae1,e5,fxe5,dxe5,Nh4,a4,Nc1,Rfe8,Nf5,Bf8,b3,axb3,axb3,Nc5,Nh6+,Kh8,Bc4,Ne6,Rxf6,gxf6,Qh5,Bxh6,Qxh6,Qe7,Nd3,Rg8,Bxb4,Qd8,Qh5,Rg6,Bc3,Qg8,Bxe6,fxe6,Nxe5,fxe5,Qxe5+,Rg7,Rf1,Rc8,Bb2,Rxc2', 'Qxg7+,Qxg7,Rf8#', 'https://lichess.org/training/kc70E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kC7Tw', 'Blitz', 'Handayanii', 1749, 'Oness2003', 2002, 'e4,c5,d4,cxd4,Bc4,e5,Nf3,d6,c3,dxc3,Nxc3,Nf6,Qe2,Be7,Be3,O-O,O-O-O,Qc7,Kb1,a6,Bb3,Nc6,Rc1,Be6,Nd5,Qd7,Nb6,Qc7,Bxe6,fxe6,Nxa8,Rxa8,Rhd1,Nxe4,Bb6,Qxb6,Qxe4,Rf8,h4,Rf4,Qd3,e4,Qd2,e5,Qd5+,Kf8,Ng5,Rxf2,Ne6+,Ke8,Nxg7+,Kd7,Qe6+,Kd8,Rxd6+,Bxd6', 'Qe8+,Kc7,Ne6#', 'https://lichess.org/training/kC7Tw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kc88i', 'Rapid', 'vsv2170', 1728, 'heddaMo', 1684, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Qb3,Qa5,Bd2,c4,Qc2,Be7,Be2,Bd7,O-O,f6,Bf4,fxe5,Bxe5,Nf6,Nbd2,O-O,Ng5,h6,Bxf6,hxg5,Bxe7,Nxe7,Nf3,Ba4,b3,cxb3,axb3,Bxb3,Qxb3,Qc7,Nxg5,Rf5,Nxe6,Qd7,Nc5,Qe8,Bd3,Rf7,c4,Kh8,cxd5,Rd8,Bc4,Nf5,d6,Rf6,d7,Qh5,Qxb7,Rh6,h3,Nxd4,Rad1,Qxc5,Bd5,Rd6,Be4,R6xd7,Qb2,Qe5,Qb1', 'Ne2+,Kh1,Rxd1,Rxd1,Rxd1+,Qxd1,Qxe4', 'https://lichess.org/training/kc88i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KC8Wv', 'Classical', 'RamzanMathan', 2145, 'MeteToy', 2039, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Ne2,e6,O-O,Be7,b3,O-O,Ng3,d5,Nc3,d4,Nce2,e5,f4,Bg4,h3,Be6,a3,Rc8,f5,Bd7,Bg5,h6,Bxf6,Bxf6,Nh5,Bg5,Kh2,g6,Nhg3,Ne7,Ng1,gxf5,Nxf5,Nxf5,exf5,f6,Qg4,Kh7,h4,Be3,Be4,Rg8,Qh5,Bc6,Bxc6,Rxc6,Qe2,Qc7,c4,e4+,Kh1,Qg3,Nh3,Qxh4,Ra2,Rg3,Qe1,d3,Kh2,d2', 'Qxg3,Qxg3+,Kxg3', 'https://lichess.org/training/KC8Wv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kc9OM', 'Rapid', 'freddiewan', 1761, 'chessperson', 1907, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,Be2,e6,O-O,c6,Bd2,Qc7,Ne5,Bxe2,Qxe2,Bd6,Nf3,O-O,Ne4,Nxe4,Qxe4,Nd7,c3,Nf6,Qe2,a5,Bg5,Be7,Bxf6,Bxf6,Rae1,a4,a3,b6,Nd2,c5,dxc5,bxc5,Nc4,Rfb8,Rd1,h6,Rd3,Rd8,Rfd1,Rxd3,Rxd3,Rd8,Rxd8+,Qxd8,Qd2,Qb8,g3,Qb3,Nd6,Qa2,Ne4', 'Qb1+,Kg2,Qxe4+', 'https://lichess.org/training/kc9OM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCaaM', 'Rapid', 'gregoooo', 2181, 'hasanali54', 2169, 'e4,e6,d4,d5,exd5,exd5,Qe2+,Qe7,Bg5,Nf6,Bxf6,gxf6,Nc3,Be6,O-O-O,Bh6+,Kb1,Nc6,Qb5,Qd6,Qxb7', 'Rb8,Nb5,Rxb7,Nxd6+,cxd6', 'https://lichess.org/training/KCaaM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KcAZN', 'Blitz', 'FM Urochess', 2250, 'Tactics_Architect', 2063, 'Nf3,d5,d4,c5,c4,cxd4,Nxd4,e5,Nc2,d4,e3,Nc6,exd4,Nxd4,Nxd4,Qxd4,Qxd4,exd4,Bd3,Nf6,O-O,Bc5,Re1+,Be6,Bf5,O-O-O,Bxe6+,fxe6,Rxe6,Rhe8,Rxe8,Rxe8,Bd2,Ne4,Be1,Nd6,Nd2,Bb4,a3,Bxd2,Bxd2,Nxc4', 'Rc1,b5,b3', 'https://lichess.org/training/KcAZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KcbG2', 'Rapid', 'kian55', 1789, 'tantumergo', 1906, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,c3,Ne7,f4,Nf5,Nf3,c5,O-O,Nc6,Bd2,cxd4,cxd4,Qb6,Bc3,Bb4,a3,Bxc3,bxc3,O-O,Nbd2,Rac8,g4,Nfe7,Rab1,Qc7,Ng5,g6,h4,Qd7,h5,f5,gxf5,Nxf5,hxg6,h6,Nf7,Rxf7,gxf7+,Qxf7,Rf2,Kh7,Nf3,Rg8+,Kh1,Ne7,Rxb7,Qg6,Rxe7+,Nxe7,Qxg6+,Rxg6,Rg2,Nf5,Rxg6,Kxg6,Kh2,Ne3,Nd2,Kf5,Kg3,Nd1,Nb1,Nb2,Kf3,h5,Nd2,Nd3,c4,Nxf4', 'c5,Ng6,c6,Ne7,c7', 'https://lichess.org/training/KcbG2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCBgC', 'Rapid', 'gayk650', 1703, 'Grzybiarz85', 1717, 'd4,b6,b3,Bb7,Bb2,d5,Nf3,Nc6,g3,e6,Bg2,Qe7,Nbd2,O-O-O,c4,dxc4,Nxc4,h6,Nfe5,Nxe5,Bxb7+,Kxb7,Nxe5,Nf6,e3,Nd7,Qf3+,c6,Qxc6+,Kb8,Nc4,Rc8,Qf3,f5,e4,fxe4,Qxe4,Qb4+,Kf1,Rxc4,Qxe6,Rc7,Kg2,Qd6,Qe8+,Rc8,Qe3,Qd5+,Kg1,Bd6,f4,Rhe8,Qd2,Nf6,h3,Ne4,Qg2,Qf5,Kh2,Nc3,Rae1,Rxe1,Rxe1,Nxa2,d5,Rc2,Re2,Nb4,Ba3,Rxe2,Qxe2,Qf8,Qe6,Bc5,Qe5+,Kb7,Qe4,Ka6,Qc4+,Ka5,Qc3,Qd6,Qxg7,Nxd5', 'Qxa7+,Kb5,Qa4#', 'https://lichess.org/training/KCBgC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KcbTz', 'Blitz', 'vibhor91', 1898, 'GGMarquez1982', 1892, 'e4,c5,Nf3,e6,Nc3,Nf6,e5,Nd5,Nxd5,exd5,d4,Be7,c3,O-O,Be2,d6,exd6,Bxd6,dxc5,Bxc5,O-O,Nc6,Bf4,d4,cxd4,Nxd4,Nxd4,Bxd4,Rb1,Bf5,Bd3', 'Bxd3,Qxd3,Bxf2+,Rxf2,Qxd3', 'https://lichess.org/training/KcbTz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kCbUy', 'Rapid', 'fellserega', 1734, 'Ropedart', 1729, 'e4,c5,Nc3,e6,Nf3,Nc6,Bb5,Nf6,Bxc6,bxc6,d3,Be7,O-O,d5,Re1,O-O,e5,Nd7,Ne2,Qc7,Ng3,d4,b3,a5,a4,h6,Re4,Nb6,Rg4,Kh8,Nh5,Rg8,Qe2,Nd5,Qd2,Bd7,Ng3,f6,Ne4,f5,Rg6,fxe4', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/kCbUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCcfp', 'Rapid', 'jazzypop', 1851, 'Mejior', 1761, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Be6,Bxe6,fxe6,d4,Nf6,Nc3,Be7,Bxf4,O-O,O-O,c6,Qe2,d5,e5,Nfd7,Bg3,c5,Nb5,cxd4,Nbxd4,Bc5,Kh1,Nc6,Nxe6,Qe7,Nxf8,Rxf8,e6,Nf6,Bh4,Qd6,c3,Ne4,b4,Bb6,a4,Qxe6,a5', 'Ng3+,Bxg3,Qxe2', 'https://lichess.org/training/KCcfp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KcdQa', 'Blitz', 'genghis_khannn', 1755, 'valentichess', 1712, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,h6,Ne5,Bh7,Bc4,e6,Qf3,Nf6,O-O,Qxd4,Re1,Bd6,Nxf7,O-O,Nxd6,Qxd6,Bxe6+,Kh8,Bf4,Qb4,Be5,Nbd7,Bc3,Qd6,Rad1,Qc7,Nh5,Nxh5,Qxh5,Nf6,Qh3,Bxc2,Rd7,Nxd7', 'Qxh6+,Bh7,Qxg7#', 'https://lichess.org/training/KcdQa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kCeRB', 'Rapid', 'oskar100', 1758, 'balck_pawn', 1967, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,d6,d3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,a5,Be3,O-O,Bxd4,Bxd4,Rb1,c6,Ne2,b5,c3,bxc4,cxd4,cxd3,Qxd3,exd4,Nxd4,c5,Nf5,Re8,Rbe1,Re6,f3,Qb6,b3,g6,Ne3,a4,Nc4,Qa6,e5,Rae8,f4,dxe5,Nxe5,Qxd3,Nxd3,Rxe1,Rxe1,Rxe1+,Nxe1,axb3,axb3,Ne4,Nd3,Kg7,Kf1,Kf6,Ke2,g5,fxg5+,Kxg5,Ke3,Kf5', 'g4+,Ke6,Kxe4', 'https://lichess.org/training/kCeRB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCEzu', 'Blitz', 'lahijan', 1906, 'ChopinRapid', 1672, 'b3,Nf6,Bb2,b6,e3,Bb7,Qe2,Ba6,d3,g6,Nc3,Bg7,O-O-O,Ne4,Qd2,Nxd2,Kxd2,O-O,h4,d6,h5,Nd7,hxg6,hxg6,g4,Bb7,f3,Ne5,Bg2,Nxg4,Nge2,Nf2,Rdf1,Nxh1,Rxh1,Bxc3+,Bxc3,e5,d4,f6,Bh3,Kg7,Ng3,Bxf3,Rg1,Bb7,Be6,Bc8', 'Nf5+,Kh8,Rh1#', 'https://lichess.org/training/KCEzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCfdw', 'Blitz', 'IM outoftheblu', 2589, 'eabr78', 2683, 'd4,Nf6,c4,e6,g3,d5,Bg2,c6,Nf3,Be7,O-O,O-O,Nc3,Nbd7,Nd2,b6,e4,dxe4,Ndxe4,Nxe4,Nxe4,Bb7,Be3,Nf6,Qc2,Rc8,Rad1,Nxe4,Bxe4,g6,Rfe1,Bf6,b4,Qe7,Qb3,Rfd8,a4,a6,c5,b5,Rd2,Rd7,Red1,Rcd8,h4,h5,Kg2,g5,hxg5,Bxg5,Bxg5,Qxg5,Qf3,Rc8,axb5,axb5,Ra2,h4,Ra7,hxg3,fxg3,f5,Bc2,Rh7,Bb3,Qh6,Qxf5,Re8,Re1,Qh2+,Kf3,Rf7,Qxf7+,Kxf7,Rxb7+,Re7,Rxe7+,Kxe7,Rxe6+,Kf8,Rxc6', 'Qh1+,Kf4,Qxc6', 'https://lichess.org/training/KCfdw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KcFg0', 'Rapid', 'be0wulf', 1987, 'hohlovalex', 1901, 'd4,f5,c4,Nf6,Bg5,e6,Nc3,h6,Bxf6,Qxf6,Nf3,g6,e3,Bg7,Be2,Kf7,d5,a6,Rc1,Qe7,d6,cxd6,O-O,Nc6,Nd4,Nxd4,exd4,b6,Bf3,Rb8,d5,e5,g4,e4,Re1,Qg5,Bxe4,fxe4,Nxe4,Qf4,Re3,Be5', 'Rf3,Kg7,Rxf4', 'https://lichess.org/training/KcFg0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCfLQ', 'Blitz', 'MultiJJok', 1864, 'ahmadelhendawi123', 1881, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,c3,d6,a4,a5,Bb3,d5,exd5,Nxd5,Re1,Bg4,h3,Bh5,Nbd2,Nf4,Nf1,Nxd3,Re3,Nxc1,Rxc1,Bc5,Rd3,Qf6,Ng3,Bg6,Rd7,e4,Nd4,Ne5,Rxc7,Nd3,Rc2,Rad8,Rxb7,Rxd4,cxd4,Bxd4,Qe2,Bxf2+,Kh2,Qe5,Qg4,Bh5,Rc8,Bxg4', 'Bxf7+,Kh8,Rxf8#', 'https://lichess.org/training/KCfLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kcGyL', 'Classical', 'murat60', 1899, 'ZeCalanga', 1699, 'e4,e6,d4,d5,e5,c5,Nf3,Qb6,Bd3,Nc6,dxc5,Bxc5,O-O,Nh6,Nc3,Qc7,Bxh6,gxh6,Re1,Bd7,Nb5,Qb6,Nd6+,Ke7,Qe2,Nd4,Nxd4,Bxd4,c3,Bc5,Nxf7,Kxf7,b4,Ke7,bxc5,Qxc5,Rac1,Rag8,Qh5,Rg7,Qxh6,Rhg8,Qf6+,Ke8,g3,Rf7,Qh4,Qxf2+,Kh1,Qf3+,Kg1,Qxd3,Rcd1,Qxc3,Rxd5,exd5,e6,Qc5+,Kh1,Bxe6,Rxe6+,Re7,Qa4+,Kd8,Rxe7,Kxe7,Qh4+,Kd6,Qf6+,Kd7,Qf7+,Qe7,Qxg8,Qe1+,Kg2,Qe2+,Kh3,Qxa2,Qxh7+,Kc6,Qg6+,Kc5,Qf7,b5,Qc7+,Kd4,Qf4+,Kc5,Qc7+,Kd4,Qf4+,Kc3,Qe3+,Kc4,Qf4+,d4', 'Qf7+,Kc5,Qxa2', 'https://lichess.org/training/kcGyL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCik0', 'Rapid', 'Nazmi01', 1631, 'bogo-and-boga', 1645, 'b3,Nf6,Bb2,g6,e3,Bg7,g3,d6,Bg2,O-O,f4,Nbd7,g4,e5,g5,Nh5,h4,exf4,Bxg7,Kxg7,Bf3,Ng3,Rh2,fxe3,dxe3,Re8,Qd3,Nf5,e4,Nc5,Qd2,Nxe4,Bxe4,Rxe4+,Ne2,Ng3', 'Qc3+,f6,Qxg3', 'https://lichess.org/training/KCik0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCJan', 'Blitz', 'FM renanreis', 2381, 'Taryoko_BKD', 2033, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,a6,Qd2,b5,dxc5,Bxc5,Bxc5,Nxc5,Bd3,Qb6,Ne2,O-O,O-O-O,Nxd3+,cxd3,Bb7,Kb1,Rac8,Rc1,Ne7,h4,Nf5,g4,Ne3,Ned4,Nxg4,h5,Nh6,Rcg1,Kh8,f5,exf5,e6,fxe6,Rxg7,Kxg7,Qg5+,Kh8,Qxh6,Qd8,Ng5,Qe7,Ngxe6,Rf6,Qe3,Re8,Re1,Bc8,h6,Bxe6,Nxe6,Rxe6,Qd4+,Qf6', 'Qxf6+,Rxf6,Rxe8+,Rf8,Rxf8#', 'https://lichess.org/training/KCJan');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCjcp', 'Rapid', 'COMET1to1000', 1883, 'obliterare', 1784, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,c6,Nf3,f6,O-O,Qf7,d4,h5,h4,g6,Bf4,Bg4,d5,Bh6,dxc6,Nxc6,Nd5,e5,Bh2,Nge7,Nc7+,Kf8,Nxa8,Kg7,Nc7,g5,c3,Nf5,Nb5,gxh4,Nd6,Nxd6,Qxd6,h3,gxh3,Bxh3,Nh4,Bxf1,Rxf1,Rg8,Kh1,Kh8,Nf5,Qg6,Ne7', 'Qg2#', 'https://lichess.org/training/KCjcp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCjmU', 'Bullet', 'Autisticnotauthentic', 1835, 'Mohsen_Dj', 1909, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Nf3,Ne4,Qc2,f5,Bd3,d5,cxd5,exd5,O-O,c6,a3,Bd6,Nd2,Kh8,b4,Rf6,Ne2,Bxh2+,Kxh2', 'Rh6+,Kg1,Qh4,f3,Qh1#', 'https://lichess.org/training/KCjmU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCjwJ', 'Rapid', 'mohammadtayyebi', 1827, 'artground', 1920, 'e4,b6,c4,Bb7,Nc3,e6,d4,Bb4,d5,Bxc3+,bxc3,exd5,cxd5,d6,c4,Qe7,Qe2,Nf6,f3,Ba6,Bb2,Nbd7,Qc2,Nc5,Bd3,Nxd3+,Qxd3,O-O,Ne2,Rab8,a4,Nh5,O-O,Qg5,f4,Qe7,e5,g6,Qd4,dxe5,fxe5,Qc5,Rac1,Qxd4+,Nxd4,Rfe8,e6,fxe6,Nxe6,Re7,Be5,Rf7,Bxc7,Rxf1+,Kxf1,Rc8,d6,Nf6,Ke1', 'Re8,Kf2,Rxe6', 'https://lichess.org/training/KCjwJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kClat', 'Rapid', 'Huskygaze3', 1996, 'Mollfels', 2074, 'd4,d5,Nf3,Nf6,Bf4,c5,e3,Nc6,c3,Qb6,Qc1,Bf5,Nbd2,e6,Be2,Be7,O-O,Nh5,Bg3,Nxg3,hxg3,h6,dxc5,Bxc5,Nd4,Bg6,Nxc6,bxc6,Nb3,Be7,Nd4,O-O,Rd1,c5,Nf3,Rab8,b3,a5,Ne5,Qb7,Nxg6,fxg6,Rb1,Bf6,Bf3,a4,Qa3,Bxc3,Qxc5,Rfc8,Qa3,Bb4,Qb2,a3,Qe5,Qb6,Bg4,Rc6,Rbc1,Rbc8', 'Bxe6+,Rxe6,Rxc8+', 'https://lichess.org/training/kClat');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kCoer', 'Rapid', 'jroes', 1792, 'CTkiller', 1977, 'e4,e6,c4,c5,Nf3,Nc6,Nc3,a6,d4,cxd4,Nxd4,Qc7,Nde2,Bb4,Bf4,d6,a3,Bxc3+,Nxc3,Nf6,Bd3,e5,Bg5,Be6,O-O,h6,Bxf6,gxf6,f4,O-O-O,Qf3,Nd4,Qh5,Bxc4,Bxc4,Qxc4,Nd5,Kb8,Qxf7,Ne2+,Kh1,Qxe4,Qc7+,Ka7,Qb6+,Ka8', 'Nc7+,Kb8,Nxa6+', 'https://lichess.org/training/kCoer');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCOgr', 'Classical', 'Jefcalgaro', 1775, 'youssefse', 1718, 'd4,d5,c4,e6,a3,c5,Nc3,cxd4,Qxd4,Nc6,Qd1,Nf6,Bg5,Be7,cxd5,Nxd5,Bxe7,Qxe7,Nxd5,exd5,e3,O-O,Nf3,Rd8,Bb5,a6,Bxc6,bxc6,O-O,Bg4,h3,Bh5,Rc1,Qf6,g4,Bg6,b4,Be4,Kg2,h5,Qd4,Qg5', 'Qxe4,dxe4,Nxg5', 'https://lichess.org/training/KCOgr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCoHo', 'Blitz', 'tabatabaee1360', 1587, 'carljk', 1597, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Be3,a6,Nc3,Qb6,Rb1,Qc7,Be2,Nf6,O-O,Bd6,h3,Be5,Nf3,h5,Ng5,Ng4,hxg4,hxg4,Bxg4', 'Bh2+,Kh1,Bg1+,Kxg1,Qh2#', 'https://lichess.org/training/KCoHo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kcpd6', 'Classical', 'olmagistr', 1808, 'thewallachian', 1788, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,a6,Ba4,b5,Bb3,Bb7,d4,exd4,Bd5,Nge7,e5,Bxe5,Nxe5,Nxd5,Nxc6,Bxc6,Qxd4,O-O,Qg4,Qf6,c3,Rfe8,Bg5,Qe5,Nd2,f6,Bh6,g5,Nf3,Qf4,Qh5,Qf5,Nd4,Nf4', 'Qxe8+,Rxe8,Nxf5', 'https://lichess.org/training/kcpd6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kCPhd', 'Blitz', 'williamvn', 1796, 'kuride', 1859, 'e4,c5,Nf3,e6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,Nc6,Nc3,Nb6,Bb5,d5,Be3,Bd7,Qd2,Na5,Bxd7+,Qxd7,Ne2,Nac4,Qc1,Rc8,b3,Nxe5,Qd2,Nxf3+,gxf3,Qb5,O-O,Bd6,Kh1,O-O,Rg1,Kh8,Rg4,f5,Rg5,Be7,Rg2,Qc6,Rc1,Qd7,Rxc8,Rxc8,Bf4,Bd6,Bxd6,Qxd6,Qg5,Rg8,Nf4,Nd7', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/kCPhd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kcpuq', 'Rapid', 'artemiscanon', 1785, 'hrachgeorgian', 1811, 'e4,e5,Qh5,Nc6,Bc4,Qe7,Nc3,Nd4,Bd3,c6,Nf3,g6,Qg5', 'Nxf3+,gxf3,Qxg5', 'https://lichess.org/training/Kcpuq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kcpxT', 'Rapid', 'yashporwal11', 1703, 'varietyg10', 1774, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,exd4,cxd4,Bb4+,Nbd2,Nf6,d5,Na5,Bd3,O-O,O-O,d6,a3,Bc3,Rb1,Rb8,Qc2,Bxd2,Bxd2,b6,Rfe1,c6,Bxa5,Bg4,Bd2,Bxf3,gxf3,c5,Kh1,Nd7,Bc3,Qh4,Rg1,f6,Rg4,Qh5,Rbg1,Rf7,f4,Rc8,Be2,Qh6,e5,dxe5,fxe5,Nxe5,R4g3,Ng6,Bd2,Qh4,R1g2,Re8,Rg4,Qh5,Re4,Qxe2,Rxe2,Rxe2,Qd3,Rfe7,Be3,Re1+,Rg1,Ne5,Qd2', 'Rxg1+,Kxg1,Nf3+,Kf1,Nxd2+', 'https://lichess.org/training/kcpxT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KcQpq', 'Rapid', 'Julian200', 1679, 'LaatesteHoop', 1772, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,d6,Nc3,Nf6,Bd2,g6,O-O-O,Bg7,f4,O-O,Bb5,Bd7,e5,Re8,Nf3,dxe5,fxe5,Ng4,Qf4,Ngxe5,Nxe5,Nxe5,Bxd7,Qxd7,Be3,Qc6,Bd4,Qxg2,Rhg1,Qf3', 'Bxe5,Qxf4+,Bxf4', 'https://lichess.org/training/KcQpq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kcqzu', 'Rapid', 'Jabba168', 1770, 'RomashovK', 1794, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bb5,Nf6,Nc3,Bg4,h3,Bh5,g4,Bg6,Ne5,Rc8,Qf3,Be4,Nxe4,dxe4,Qf4,h6,h4', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/Kcqzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kcTow', 'Rapid', 'kustugu', 1735, 'bakulish', 1706, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,Bg4,Be2,e6,O-O,Bd6,h3,Bh5,Ne5,Bg6,Nxg6,hxg6,Bg5,Nbd7,Bf3,c6,Re1,Qb6,b3,O-O-O,Na4,Qa5,Bd2,Bb4,Bxb4,Qxb4,Qd3,Ne5,Qe3,Nxf3+,Qxf3,Rxd4', 'c3,Rf4,cxb4,Rxf3,gxf3', 'https://lichess.org/training/kcTow');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCtv9', 'Rapid', 'iron-man', 1937, 'amara61', 2080, 'e4,c5,Nf3,Nc6,Bc4,e6,h3,d5,exd5,exd5,Bb5,Be6,O-O,Bd6,d4,cxd4,Nxd4,Qd7,Re1,Nge7,Nxe6,fxe6,Qh5+,Ng6,Qxd5', 'Bh2+,Kxh2,Qxd5', 'https://lichess.org/training/KCtv9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kCtVU', 'Rapid', 'MoralChess', 2078, 'roies', 2230, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,e6,O-O,Nf6,Qe2,Be7,Rd1,e5,h3,a6,Bg5,O-O,b4,h6,Bxf6,Bxf6,Nd5,Nd4,Nxd4,exd4,Rac1,Bd7,f4,Re8,Qf3,Bc6,Bb3,a5,b5,Bxb5,Nc7,Bc6,Nxe8,Qxe8,Bd5,Bxd5,exd5,Qe3+,Qxe3,dxe3,Rd3,Re8,g3,g5,fxg5,Bxg5,h4,Bd8,Kf1', 'e2+,Kf2,Bb6+', 'https://lichess.org/training/kCtVU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KCVAg', 'Blitz', 'GM Alexander_Donchenko', 2665, 'GM dmitrij_IM', 2782, 'd4,Nf6,c4,e6,g3,d5,Bg2,Bb4+,Nd2,O-O,Nf3,b6,O-O,Ba6,Qc2,c5,dxc5,Bxc5,a3,Nbd7,Qa4,Bb7,b4,Be7,Bb2,a6,Ne5,Nxe5,Bxe5,Qd7,Qxd7,Nxd7,Bb2,Bf6,Rab1,Rac8,Rfc1,Rfd8,Bxf6,Nxf6,Rc2,Kf8,Rbc1,Ke7,Kf1,Rd7,e3,dxc4,Bxb7,Rxb7,Nxc4,Rbc7', 'Nxb6,Rxc2,Nxc8+,Rxc8,Rxc8', 'https://lichess.org/training/KCVAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kCXAW', 'Rapid', 'RazorOnline', 2304, 'Makc12', 1906, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Nxd4,Nxd4,Qxd4,Nf6,Nc3,Be7,O-O,O-O,h3,h6,Rd1,a6,a4,Bd7,Bf4,Bc6,Bh2,Qd7,f4,Rad8,Qf2,Nxe4,Nxe4,Bxe4,g4,Bf6,c3,b5,axb5,axb5,Bf1,c5,f5,Qc6,h4,Be5,g5,Bxh2+,Kxh2,d5,Qf4,hxg5,hxg5,Qd6,Qxd6,Rxd6,Bh3,Rb8,Kg3,c4,Kf4,f6,g6,b4,cxb4,Rdb6,Ra4,Rxb4,Rxb4,Rxb4,Ra1,Rb8,Bf1,Kf8,Ra2,Bb1,Ra7,Rxb2,Rf7+,Kg8,Rd7,Kf8,Rf7+,Kg8,Bh3,Be4,Bg4,Rb8,Rc7,Bd3,Bf3,d4,Bd5+,Kf8,Rf7+,Ke8,Rxg7,c3', 'Rg8+,Ke7,Rxb8', 'https://lichess.org/training/kCXAW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kcymN', 'Classical', 'Polo60', 1891, 'DmitryMu25', 1932, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,O-O,dxc3,Bxf7+,Kf8,Bxg8,Rxg8,Nxc3,Qf6,Bb2,Nd4,Nd5,Nxf3+,Qxf3,Qxf3,gxf3,c6,Nf4,g5,Nd3,Bd6,Rad1,Bc7,Rfe1,g4,f4,b6,Ne5,Ke8,Kg2,a5,f5,h5,Ng6,Ba6,h3,gxh3+,Kxh3,Bd8,f4,Bc4,Ne5,Bxa2,Rxd7,Bf6,Rd2,c5,Ng6,Bxb2,Rxb2,Bf7,Rxb6,a4,e5,a3,Ra1,c4,Kh4,a2,Kxh5,c3,Rc6,Ra3,e6,Bxg6+,fxg6,Rh8+,Kg5,Rh2,Kf6,Kd8,e7+,Kd7,Re6,Rh8,e8=Q+,Rxe8,Rxe8,Kxe8,g7', 'Ra6+,Kf5,Kf7', 'https://lichess.org/training/kcymN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kczp4', 'Classical', 'Denis1606', 1632, 'Pavel0856', 1614, 'e4,e5,Be2,d6,h3,Be7,g4,Nf6,g5,Nxe4,h4,Bf5,Bd3,Nxf2,Kxf2,Bxd3,cxd3,Nd7,Qa4,O-O,b4,d5,Ba3,Nb6,Qb3,e4,d4,Nc4,Rh3,Qd6,Ne2,b6,b5,Nxa3,Nxa3,Qxa3', 'Qxa3,Bxa3,Rxa3', 'https://lichess.org/training/kczp4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kCZTL', 'Blitz', 'andrey_kolotilin', 2074, 'RoshanGhaderi', 2074, 'd4,e5,dxe5,d6,exd6,Bxd6,Nf3,Nf6,Bg5,O-O,e3,h6,Bh4,Bg4,Nbd2,Nbd7,Bd3,Bb4,O-O,c6,c3,Ba5,Qc2,Qc7,Bg3,Qc8,h3,Be6,Rad1,Bc7,c4,Bxg3,fxg3,Qc7,g4,Qg3,Ne4,Nxe4,Bxe4,f5,Bxf5,Bxf5,gxf5,Nf6,e4,Rad8,e5,Nh5,f6,gxf6,exf6,Nxf6,Qf5,Rxd1,Rxd1,Nh7,Qe6+,Kh8,Ne5,Ng5,Ng6+,Kg7,Rd7+,Rf7,Rxf7+,Nxf7,Ne7,Ng5,Qg6+,Kf8,Nf5,Nf3+,Kf1,Qxg6,Ne3,Nd4,b3,Qb1+,Kf2,Qxa2+,Kg3,Qxb3,Kf4,Ne6+,Ke4,Nc5+,Kd4,Nd7,Nf5,Qg3,Nxg3,Nf6,Nf5,Kf7,Nxh6+', 'Kg6,Ke5,Nd7+,Kf4,Kxh6', 'https://lichess.org/training/kCZTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kD2o9', 'Classical', 'Andrea1093', 1905, 'MaslovVyacheslav', 1910, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,Nxd4,Qxd4,e6,Bg5,Be7,e5,Ng8,Bf4,Qc7,O-O,b5,Rfd1,Bb7,Rd3', 'Bc5,Nxb5,axb5', 'https://lichess.org/training/kD2o9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KD3In', 'Rapid', 'startrek1', 2063, 'swurk', 2018, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Bb4,Qa4+,Nc6,e3,Bd7,Qc2,O-O,Bd2,b6,Bd3,dxc4,Bxc4,Na5,Bd3,c5,O-O,cxd4,exd4,Rc8,Rac1,Nc4,Bg5,h6,Bh4,Be7,Rfd1,Nd5,Bg3,Bg5,Nxg5,Qxg5,Qe2,Nxc3,Rxc3,Na5,f4,Qd5,a3,Qxd4+,Kh1,Qa4,Ba6,Rxc3,bxc3,Bc6,Bd3,Qxa3,Qd2,Kh8,Bb1,Nc4,Qd3,g6,Qxc4,Rc8,Qd4+,Kg8,Be1,Qb2,Qd2,Qb3,Bc2,Qc4,Qd4', 'Qf1+,Qg1,Bxg2#', 'https://lichess.org/training/KD3In');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kd49z', 'Rapid', 'kennierono', 1998, 'burywsr1', 1870, 'd4,d5,Nf3,Nf6,e3,Bg4,Be2,Bxf3,Bxf3,e6,Be2,c5,c4,cxd4,Qxd4,Nc6,Qd2,Bb4,Nc3,Ne4,Qc2,Qa5,O-O,Nxc3,bxc3,Bxc3,Rb1,Rb8,cxd5,exd5,Bf3,O-O,Bxd5,Qxd5,Qxc3,Rfe8,Bb2,Qg5,g3,Ne5', 'f4,Qg6,fxe5', 'https://lichess.org/training/kd49z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kd6MP', 'Blitz', 'richess91', 1769, 'SAKOCHECKS', 1769, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,Nxc6,Nf3,e5,g3,Bc5,Bg2,e4,Qe2,O-O,Ng5,Nd4,Qb5,Nxc2+,Kd1,Nxa1,Qxc5,b6,Qc4,Bb7,Re1,Re8,Qxf7+,Kh8,Qxb7,Qd3,Bxe4,Nxe4,Rxe4', 'Qf1+,Re1,Qxe1#', 'https://lichess.org/training/Kd6MP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kd8RM', 'Blitz', 'Daniil_Beregovoj', 1639, 'reyregalizz', 1524, 'e4,e6,Bc4,d5,exd5,exd5,Bd3,Nf6,c4,Bc5,Qa4+,Bd7,Qb3,Qe7+,Ne2,dxc4,Qxc4,O-O,Nc3,Re8,b3,Ng4,Bb2,Nxf2,Rf1,Nxd3+,Qxd3,Nc6,Nd5,Qd6,Nxc7,Qxc7,Qd5,Bb6', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/Kd8RM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KD93c', 'Classical', 'Ultrahightrooper', 1726, 'jerrypi', 1841, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,d6,Qd5,Nf6,Qb3,Be7,Be3,O-O,O-O-O,c5,Qc2,Be6,Bd3,g6,e5,Ng4,exd6,Bxd6,Nf3,Qe7,Bd2,Nxf2,Ne4,Nxd1,Kxd1,Bg4,Bc3,Bxf3+,gxf3,f6,Bc4+,Kg7,Re1,Be5,Ng5,Qd6+,Kc1,Bxc3,Ne6+,Kh8,Qxc3,Rf7,Ng5,Qf4+,Kb1,Rd7,Re8+,Kg7,Ne6+,Kf7,Nxf4+,Kxe8,Bb5,Nc6,Qxf6,Rad8,Qh8+,Ke7,Qxh7+,Kd6,Qxg6+,Kc7,Qg3,Kc8,a3,Rd1+,Ka2,Nd4,Ba4,Rd2,Ng6,b5,Qg4+,Kb7,Qe4+,Kb6,Bxb5,Nxb5,Qe6+,R8d6,Qf5,Rxh2,Ne5,Rd4,Qf6+,Ka5,Nc6+,Ka4,Nxd4', 'Nc3+,Ka1,Rh1#', 'https://lichess.org/training/KD93c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kD9bW', 'Classical', 'strivenmarket', 1670, 'kaczmarket', 1636, 'e3,e5,b3,d5,Bb2,Nc6,Bb5,Bd6,Bxc6+,bxc6,a3,c5,h3,Ba6,Qg4,g6', 'Qa4+,Qd7,Qxa6', 'https://lichess.org/training/kD9bW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kDAJs', 'Blitz', 'FM JustoTriana', 2393, 'tresdehumita', 2251, 'Nf3,d5,c4,d4,e3,c5,b4,Nc6,b5,Nb8,Bb2,dxe3,fxe3,Nf6,Be2,Bf5,O-O,Bd3,Nc3,Bxe2,Qxe2,e6,d4,Be7,Rad1,Qc7,d5,e5,Nd2,Nbd7,Nde4,Nxe4,Nxe4,Bd6,Qg4,Kf8,Ng5,Nf6,Qh4,a6,b6,Qxb6,Bc3,h6,Rxf6,gxf6,Ne4,Be7,d6,Bd8,Qg4,Rg8,Qf5,Qc6,g3,Rg6,Rf1,b5,h4,h5,Qxh5,Qxe4,Qh8+,Rg8,Qh6+,Ke8,Kh2,Qc2+,Kh3,Qxc3,Rxf6,Qd3,Re6+,fxe6,Qxe6+,Be7', 'Qxe7#', 'https://lichess.org/training/kDAJs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KDAZF', 'Bullet', 'Tupson', 1705, 'Salbayrak61', 1579, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Bf5,Nf3,e6,Bc4,Nd7,Bd2,Qb4,Bb3,O-O-O,O-O,Ngf6,a3,Qb6,Be3,Nd5,Nxd5,exd5,Bxd5,c6,Bb3,f6,d5,c5,c4,Bd6,Bc2,Bg4,b3,Qc7,h3,Bh2+,Kh1,Bh5,g4,Bxg4,hxg4,Bd6,Bf5,h5,Kg2,hxg4,Bxg4,Bh2,Rh1,Rh7,Rxh2,Rxh2+,Nxh2,Rh8,Bxd7+,Kb8,Nf3,Qxd7,Bxc5', 'Qh3+,Kg1,Qh1#', 'https://lichess.org/training/KDAZF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KdbMl', 'Blitz', 'larockman', 1527, 'Jupiter007', 1525, 'c4,e5,g3,Bc5,Bg2,Qf6,e3,c6,Nc3,Ne7,Ne4,Qg6,Nxc5,d6,Nb3,Bg4,Ne2,f5,O-O,h5,f3,h4,fxg4,fxg4,d4,exd4,Nf4,Qh6,Qxg4,Nd7,Ne6,Nf6,Nxg7+,Kd8,Ne6+,Ke8,Rxf6,Qxf6,Nc7+,Kf7,Nxa8,hxg3,h3', 'Qf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/KdbMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KDbPk', 'Rapid', 'johanr', 1615, 'Romje77', 1690, 'd4,e6,Nf3,Nf6,Bf4,c6,Nc3,d5,Qd3,h6,e4,dxe4,Nxe4,Nd5,Bg3,Qa5+,c3,Nd7,Be2,f5,Nd6+,Bxd6,Bxd6,Kf7,O-O,Qd8,b4,Qf6,a4,b6,b5,Bb7,Qc4,Ne7,Ne5+,Nxe5,dxe5,Qg5,Bf3,Rac8,Bxe7,Qxe7,bxc6,g5,Rad1,g4,Rd7', 'Qxd7,cxd7,Rxc4', 'https://lichess.org/training/KDbPk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kDc2E', 'Rapid', 'NOTFOXAnonymous', 2104, 'WSXchess', 2141, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Be3,c6,O-O-O+,Kc7,Bc4,Be6,Bxe6,fxe6,a3,Ng4,Re1,Nd7,h3,Nxe3,Rxe3,Bc5,Re2,Bd4,Nd1,Rhf8,Nf3,Rf4,Ng5,Kd6,c3,Bb6,b4,h6,Nf3,a5,Nb2,axb4,axb4', 'Ra1+,Kc2,Rxh1', 'https://lichess.org/training/kDc2E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kDCqa', 'Blitz', 'ricardo_rb', 2079, 'FM Kleinseelheim', 2304, 'd4,Nf6,e3,c5,c3,cxd4,cxd4,d6,Nc3,Bf5,Nf3,h6,Bd3,Bxd3,Qxd3,Nc6,a3,Qd7,O-O,g6,b4,Bg7,Bb2,O-O,Ne4,Nxe4,Qxe4,e5,d5,Ne7,Qd3', 'e4,Qxe4,Bxb2', 'https://lichess.org/training/kDCqa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KDcsg', 'Rapid', 'Servadio', 1807, 'bebeganzo', 1726, 'c4,c5,Nc3,Nf6,d3,e6,e4,Nc6,g3,d6,Bg2,Be7,Nge2,O-O,O-O,a6,a4,Bd7,Bd2,Qc7,a5,Rad8,Na4,d5,cxd5,exd5,Bf4,Bd6,exd5,Bxf4,Nxf4,Nd4,Nb6,Bf5,Rc1,Qd6,Nc4,Qc7,d6,Rxd6,Nxd6,Qxd6,Bxb7,g5,Ng2,Bh3,Re1,Nc6,Qf3,Nd4,Qe3,h6,Qe5,Qd7,Be4,Nxe4,Qxe4,Qb5,Ne3,Qxb2,Nc4,Qb8,Nb6,Qc7,Nd5,Qxa5,Nf6+,Kg7,Nh5+,Kg8,Re3,Qd2,Rce1,Nf5,R3e2,Qa5,Nf6+,Kg7,Nd7,Rd8,Qe5+,Kg8,Qxc5,Qxc5,Nxc5,Rf8,Re8,Nd4,Rxf8+,Kxf8,Re3,Nc2,Re5,Nd4,Ne4', 'Nf3+,Kh1,Nxe5', 'https://lichess.org/training/KDcsg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kden7', 'Blitz', 'anterdam', 1619, 'grantm11', 1616, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,Bxc6+,bxc6,O-O,Nf6,Re1,Bf5,d3,e6,Bg5,Be7,Nh4,Bg4,f3,Bh5,Bxf6,Bxf6,g4,Bxb2,gxh5,Bxa1,Ng2,Bd4+,Kh1,O-O,c3,Bf6,Rg1,e5,Ne3,d4,cxd4,exd4,Nf5,Qd7,Nxg7,Bxg7,h6,Rfe8,Rxg7+,Kh8,Qg1,Qd5', 'Rxh7+,Kxh7,Qg7#', 'https://lichess.org/training/kden7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kdEX7', 'Blitz', 'aquayx', 2345, 'FM Gatiloco77', 2425, 'g3,c6,Bg2,d6,c4,Nf6,Nc3,Be6,d3,g6,e4,Bg7,Nge2,O-O,O-O,Qc8,Nf4,Bd7,Re1,e5,Nfe2,Bh3,f4,Bxg2,Kxg2,Na6,Rf1,Nc5,f5,h6,Be3,Ng4,Bg1,Rd8,h3,Nf6,fxg6,fxg6,Be3,Ne6,Bxh6,Bxh6,Rxf6,Kg7,Qf1,Ng5,h4,Qh3+,Kg1,Qxf1+,Raxf1,Nh7,Rf7+,Kg8,Rxb7,Rf8,Rxf8+,Rxf8,Rxa7,Be3+,Kg2,Bxa7,b4,Rf2+,Kh3,Bd4,a4,Bxc3,Nxc3,Rf3,b5,cxb5,cxb5,Nf8,a5,Nd7,Nd5,Rxd3,b6,Ra3,Ne7+,Kf7,Nc6,Rb3,b7,Ke8', 'a6,Ra3,a7,Rxa7,Nxa7', 'https://lichess.org/training/kdEX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kdG9R', 'Rapid', 'Le_Marcius', 2004, 'theflyingpenguin37', 2062, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,f3,d6,Be3,Nbd7,Bd3,e5,Nge2,Ne8,Qd2,exd4,Nxd4,Ne5,O-O-O,a6,h4,h5,Bh6', 'Nxd3+,Qxd3,Bxh6+', 'https://lichess.org/training/kdG9R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kdgoA', 'Rapid', 'TheLastLalo', 1896, 'JunaSalvador', 1914, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,e3,Be6,cxd5,Nxd5,Na4,c6,e4,Nb6,Nc5,Bg4,h4,Bxf3,gxf3,Qxd4,Nd3,Na6,Bd2,Nc4', 'Bc3,Qb6,Bxg7', 'https://lichess.org/training/kdgoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kdhvb', 'Rapid', 'GeraldKrefeld', 1779, 'MrSnakeshot', 1868, 'd4,Nf6,Bg5,e6,e4,Be7,Bxf6,Bxf6,c3,O-O,Nd2,Nc6,Bd3,b6,Ne2,Bb7,Qc2,h6,O-O-O,a5,Kb1,a4,a3,Ba6,Bxa6,Rxa6,e5,Be7,g4,Qb8,h4,b5,g5,h5,Ne4,d5,exd6,cxd6,N2g3,d5,Nc5,Bxc5,dxc5,Qa7,Nxh5,Qxc5,Nf6+,gxf6,gxf6,Kh8,Qe2,d4,cxd4,Qf5+,Ka2,Rg8,d5,exd5,Qxb5,Rga8', 'Rxd5,Ra5,Rxf5,Rxb5,Rxb5', 'https://lichess.org/training/kdhvb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KDiQi', 'Blitz', 'FujiXx', 2125, 'Swedchamp', 2114, 'Nf3,g6,c4,Bg7,g3,e5,d3,Ne7,Nc3,c6,Bg2,d5,cxd5,cxd5,O-O,O-O,Bg5,Be6,Rc1,f6,Bd2,d4,Ne4,Bxa2,b3,Qb6,Qc2,Bxb3,Qb2,Na6,Rb1,f5,Neg5,Nc5,Rfc1,h6,Rxc5,hxg5,Rcc1,Bd5,Qxb6,axb6,Nxg5,Bxg2,Kxg2,Ra2,Bb4,Bf6,Nf3,Rxe2,Bxe7,Bxe7,Rxb6,e4,dxe4,fxe4,Nxd4,Rfxf2+,Kh3,Rxh2+,Kg4,Rd2,Ne6,e3,Rxb7,Bf8,Rc8,Rhf2,Rg7+,Kh8,Rxg6,e2,Nxf8,e1=Q,Ne6+,Kh7', 'Rg7+,Kh6,Rh8#', 'https://lichess.org/training/KDiQi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kDKCH', 'Rapid', 'rodri22', 1956, 'Ivorybags', 1866, 'd4,e6,c4,h6,Nc3,Bb4,Nf3,Bxc3+,bxc3,Ne7,e4,O-O,Bd3,d6,h4,Nd7,Be3,e5,Qd2,f5,exf5,Nxf5,Qc2,Qf6,O-O-O,Nb6,Nd2,Bd7,Ne4,Qe6,g4,Nxe3,fxe3,Ba4,Qg2,Bxd1,Kxd1,Nxc4,Qe2,d5,Nc5,Qc6,g5,e4,Nxe4,dxe4,Bxc4+,Kh8,gxh6,Qxh6,Bd5,Qg6,h5,Qf5,Bb3,Qf3,Rg1,Qxe2+,Kxe2,Rf5,Bc2,Re8,Rg4,Rxh5,Bxe4,c6,Kd3,g5', 'Bg6,Rxe3+,Kxe3', 'https://lichess.org/training/kDKCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KDKnS', 'Blitz', 'testingtesting1984', 1572, 'chessking57', 1537, 'd4,e6,Bf4,c5,c3,Qb6,Qb3,cxd4,Qxb6,axb6,cxd4,Nc6,e3,Nf6,a3,Na5,Nd2,d5,Ngf3,Bd7,Bd3,b5,b4,Nc4,O-O,Be7,Rac1,Nb2,Rc3,O-O,Rfc1,Bc6,Ne5,Rac8,Nxc6,bxc6,Bxb5,g6,Rxc6,Rxc6,Rxc6,Ra8,Rc7,Bd8,Rc3,Ne4,Nxe4,dxe4,Be5,Nd1,Rc1,Nb2,Rc2,Nd3,a4,Nxb4,Rc4,Nd3,Bc7,Be7,Bc6,Rc8,Bxe4,Bd6,Bxd3,Rxc7,Rxc7,Bxc7,Bb5,Ba5,Kf1,Kg7,Ke2,Kf6,Kd3,Kf5,f3,f6,g3,g5,h3,h5,e4+,Kg6,Kc4,g4,hxg4,hxg4,f4,f5,e5,Kf7,Kc5,Ke7,d5,exd5,Kxd5,Be1,Kc5,Bxg3,a5,Bf2+,Kc6,g3,Bf1,Be3,a6,Ke6,Bg2,Ke7,Kd5,Kd7,Kc4,Kc7,Kb5,Kb8,e6,Kc8,e7,Kd7,e8=Q+,Kxe8,Kc6,Kd8', 'Kb7,Kd7,a7,Bxa7,Kxa7', 'https://lichess.org/training/KDKnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kdkuc', 'Rapid', 'Toldi', 1679, 'keiroome', 1710, 'd4,d5,Bf4,Bf5,e3,e6,c3,c5,Nf3,c4,Ne5,Nd7,h3,Ngf6,Be2,Nxe5,Bxe5,Nd7,Qa4,Qb6,b3,cxb3,axb3,a6,O-O,Bd6,Bxg7,Rg8,Be5,Bxh3,Bxd6', 'Rxg2+,Kh1,Qxd6', 'https://lichess.org/training/Kdkuc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KDKzx', 'Rapid', 'yolorino', 1618, 'shriraj2003', 1707, 'e4,c5,Nc3,Nc6,d3,a6,g3,Nf6,Bg2,d6,Nge2,g6,Be3,Bg7,O-O,Ng4,Qd2,Nxe3,Qxe3,Bd7,a3,Rb8,Nf4,d5,Nfxd5,Nd4,Qd2,h5,Rab1,b5,Ne2,Nc6,c3,Na5,Qc2,c4,d4,Nb3,Nc1,Na5,Re1,f5,b3,Bc6,e5,Bxd5,Bxd5,Qxd5,Ne2,Bh6,b4,Nb3,Nf4,Bxf4,gxf4,e6,Qe2,Kd7,h4,Rbg8,Kh2,Kc6,Rbd1,Rg7,Rg1,Kd7,Rg2,Ke7,Rgg1,Kf7,Rg2,Qc6,Rgg1,a5,bxa5,Ra8,Rg2,Rxa5,Rdg1,Qe4,Rxg6,Rxg6,Qxh5,Qxf4+,Kh1,Qe4+', 'f3,Qxf3+,Qxf3,Rxg1+,Kxg1', 'https://lichess.org/training/KDKzx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kdm8F', 'Rapid', 'maksimgridin', 1689, 'patcroy', 1691, 'c4,c5,Nc3,d6,Nf3,e6,d4,cxd4,Nxd4,Nc6,e3,a6,Be2,Be7,O-O,Nf6,b3,O-O,Bb2,Ne5,f4,Neg4,Bxg4,e5,Nc2,Bxg4,Qd2,exf4,exf4,Bd7,Rfd1,Bc6,Nb4', 'Qb6+,Kh1,Qxb4', 'https://lichess.org/training/kdm8F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kdmWf', 'Rapid', 'MelvinKnight110718', 1920, 'STAR69', 2008, 'e4,c5,Nf3,d6,c4,e6,Nc3,Nc6,d3,Nf6,a3,Be7,h3,O-O,Be2,Qb6,g4,Nd4,Nxd4,cxd4,Na2,a5,g5,Ne8,h4,e5,h5,a4,Rg1,Qb3,Qxb3,axb3,Nb4,Be6,Bd1,b5,Bxb3,bxc4,Bxc4,Bxc4,dxc4,Rc8,b3,Bd8,Ke2,f6,g6,Nc7,f4,f5,exf5,Rxf5,fxe5,dxe5,Kd3,h6,Rh1,Bg5,Bxg5,Rxg5,Nd5,Nxd5,cxd5,Kf8,b4,Ke7,b5,Kd6,Ke4,Rg4+,Kf3,Rf4+,Ke2,Kxd5,Rac1,Rcf8,b6,Rb8,Rb1,e4,Rh3,Rf6,b7,Kc6,Rh4,Re6,Rf4,Rxb7,Rxb7,Kxb7,Rf7+,Kc6,Rxg7,Re5,Rh7,Rxh5,g7,Rg5,Rxh6+,Kd5', 'Rh5,Rxh5,g8=Q+', 'https://lichess.org/training/kdmWf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KdNB7', 'Rapid', 'MJB1991', 1905, 'Caruso_89', 1982, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,Nc6,Nc3,Bc5,Be3,Qb6,Na4,Qa5+,Nc3,Bxd4,Bxd4,e5,Be3,Nf6,f3,O-O,a3,d5,exd5,Nxd5,Qxd5,Qc7,O-O-O,Be6,Qe4,Rfc8,Bd3,f5,Qa4,a6,Kb1,b5,Qh4,Rab8,Na2,a5,c3,b4,cxb4,Bxa2+,Kxa2,axb4,Bc4+,Kh8,b3,Na5,Rc1,Nxc4,bxc4,Qa5,Qe7,Qxa3+,Kb1,Qxe3,Rc2,Rxc4,Rhc1,Rxc2,Rxc2,Qb3+,Kc1,Qe3+,Kb2,Qa3+,Kb1,Ra8,Qxe5,b3,Re2,h6,Qb2,Qb4,Qd2,Qb5,Rf2,Kh7,f4,Ra2,Qe3,Rxf2,Qxf2,Qd3+,Kb2,Qc4,Qd2,h5,Ka3,Kh6,Kb2,g6,Ka3,h4,Kb2,Kh5,h3,Kh6,Ka3,Qb5,Kb2,Qb7,Ka3,Kg7,Qd4+,Kh6,Qd2,Kh7,Kb2,Qb6,Qd7+,Kh6,Qd2,Kg7,Qd7+,Kf6,Qd2,Ke6,Qe2+,Kf6,Qe5+,Kf7,Qd5+,Kf6,Qe5+,Kf7,Qd5+,Kg7,Qe5+,Kh6,Qe2,Qd4+,Ka3,Qxf4,Kxb3,Qb8+,Kc3,Qc7+,Kd4,Qd6+,Kc3,Qc5+,Kb3,Qd5+,Kc3,Kg5,Qe7+,Kh5,Qh7+,Kg5,Qe7+,Kh6,Qxh4+,Kg7,Qd4+,Qxd4+,Kxd4,Kf6,Ke3,Kg5,Kf3,Kf6,h4,Ke5,g3,Kf6,Kf4,Kg7,Kg5,Kh7', 'h5,gxh5,Kxh5', 'https://lichess.org/training/KdNB7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KdNOh', 'Rapid', 'jujujako', 1717, 'rafpaf', 1730, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bb5+,Nc6,Nc3,a6,Bd3,Bxd3,Qxd3,Nf6,Bf4,e6,O-O,Be7,Rfe1,O-O,a3,Bd6,Bxd6,Qxd6,Ne5,Nd7,Nxd7,Qxd7,Re3,Ne7,Rh3,Nf5,g4,Nh6,Re1,Rac8,Re5,f6,Re1,f5,g5,Ng4,f3,Nxh2,Rxh2,Qe7,f4,g6,Na4,Qc7,Nc5,Qxf4,Nxe6,Qg4+,Rg2,Qh4,Nxf8,Qxe1+,Qf1,Qxf1+,Kxf1,Rxf8,Re2,f4,Re7,Rf7,Rxf7', 'Kxf7,Kg2,Ke6,Kf3,Kf5', 'https://lichess.org/training/KdNOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kDo8r', 'Classical', 'Aravindj', 1616, 'JTL2012', 1616, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,Re1,h6,c3,Nf6,d4,exd4,cxd4,Bb4,Nc3,O-O,Qd3,Re8,Bd2,d5,exd5,Rxe1+,Rxe1,Ne7,Bb3,Bf5,Qe3,Nexd5,Bxd5,Nxd5,Nxd5,Bxd2,Qxd2,Qxd5,Re5,Qxa2,Rxf5', 'Qb1+,Qe1,Qxf5', 'https://lichess.org/training/kDo8r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kDoP7', 'Blitz', 'floum', 1799, 'bektijoko', 1830, 'd4,Nf6,c4,d5,cxd5,Qxd5,Nc3,Qd8,e4,c5,Nf3,cxd4,Nxd4,e5,Bb5+,Bd7,Nf5,Bb4,O-O,Bxc3,Bxd7+,Qxd7,bxc3,Qxd1,Rxd1,O-O,Rb1,Nxe4,Rxb7,Nxc3,Ne7+,Kh8,Rd3,Ne2+,Kf1,Nxc1,Rh3,Na6,Rb5,Rab8,Rxe5,Rb1', 'Rxh7+,Kxh7,Rh5#', 'https://lichess.org/training/kDoP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kDpEj', 'Blitz', 'NM mkoganov', 2207, 'affetbaba', 2034, 'd4,Nf6,Bg5,Ne4,Bh4,c5,f3,Nf6,d5,d6,c4,b5,e4,bxc4,Nc3,e6,Bxc4,Be7,Bb5+,Bd7,dxe6,fxe6,e5,dxe5,Nge2,O-O,O-O,Nd5,Bxe7,Nxe7,Bxd7,Qxd7,Ne4,Qb5,Qc2,Na6,N2c3,Qb6,Rae1,Nf5,Ng5,h6,Nge4,Nd4,Qf2,Nb4,Qg3,Nd3,Re3,Nf4,b3,Rac8,Kh1,c4,b4,Qxb4,Qg4,Qb2,Rg1,Rf5,g3,Rh5', 'Nf6+,Kh8,Nxh5,Nxh5,Qxh5', 'https://lichess.org/training/kDpEj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KDPfb', 'Classical', 'robin87', 1719, 'rfanning', 1759, 'e4,c5,Nf3,Nc6,g3,d6,Bg2,Nf6,d3,e5,Be3,Be7,Nbd2,O-O,h4,Bg4,Nf1,a5,N1h2,Bd7,Qd2,b5,g4,Nxg4,Nxg4,Bxg4,Bg5,f6,Be3,d5,exd5,Qxd5,c4,bxc4,dxc4,Qe4,Qd5+,Qxd5,cxd5,Nb4,O-O,Nxd5,Bd2,a4,Nh2,Be6,Rad1,Rab8,Bc1,Nf4,Bxf4,exf4,Rfe1,Rb6,h5,h6', 'Rxe6,Rxe6,Bd5', 'https://lichess.org/training/KDPfb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kDPP9', 'Rapid', 'machur_leShach', 1976, 'alloutattack2', 1957, 'd4,d5,Bf4,Nc6,Nf3,Bf5,e3,Nf6,Bd3,Ne4,O-O,Bg4,Nbd2,f5,Be2,h6,Ne5,Nxe5,Bxe5,Qd7,Nb3,Bxe2,Qxe2,e6,c4,O-O-O,cxd5,Qxd5,Rac1,Bd6,Rfd1,Bxe5,dxe5,Qxe5,Nd4,Rd7,Nb5,Rxd1+,Rxd1,a6,Nd4,Rd8,Qc4,Kb8', 'Nc6+,bxc6,Rxd8+', 'https://lichess.org/training/kDPP9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KDQod', 'Classical', 'Heck6', 1900, 'myag', 1875, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,c3,b5,Bb3,d6,h3,O-O,Re1,Bb7,d4,Nb8,Nbd2,Nbd7,d5,c6,c4,bxc4,dxc6,Bxc6,Bxc4,Nc5,Qc2,Rc8,b4,Ncxe4,Nxe4,Bxe4,Rxe4,d5,Rxe5,Rxc4,Qe2,Bxb4,a3,Bc3,Rb1,Bxe5,Qxe5,Qc7,Qe3,Rc8,Bb2,Ne4,Rd1,Rd8,Ne5,Rc2,Qd4,Qc5,Qxe4,Qxf2+,Kh1,Rxb2,Ng4,f5', 'Qe6+,Kh8,Nxf2', 'https://lichess.org/training/KDQod');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kDrv0', 'Rapid', 'AnatolyKAS', 1779, 'IvoR', 1651, 'c4,e5,Nc3,d6,e4,c6,d3,Be6,Nf3,Be7,h3,Nd7,Be2,Ngf6,O-O,O-O,Ng5,Nc5,b4,Ncd7,Nxe6,fxe6,Bg5,a6,f4,Ne8,Bxe7,Qxe7,fxe5,Nxe5,Rxf8+,Qxf8,Qd2,Nf6,Rf1,Qe7,d4,Ned7,a3,Rf8,Qg5,Qd8,Bg4,e5,dxe5,Nxe5,Be6+,Kh8,Rf4,Ng6,Rf3,Nd7', 'Rxf8+,Qxf8,Bxd7', 'https://lichess.org/training/kDrv0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KdSFX', 'Rapid', 'ulissesrodrig', 1786, 'DVRazor', 2354, 'e4,c5,Bc4,e6,Nf3,Nc6,c3,Nf6,d4,Nxe4,O-O,cxd4,Nxd4,d5,Bb3,Bc5,Nxc6,bxc6,Qf3,Qb6,Nd2,Ba6,Nxe4,dxe4,Qg3,Bxf1,Kxf1,O-O', 'Bh6,Bd4,cxd4', 'https://lichess.org/training/KdSFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KDuD4', 'Classical', 'mleitner', 1659, 'zestsunil', 1629, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,cxd4,cxd4,Bb4+,Bd2,Qb6,Qa4,Bxd2+,Nbxd2,Bd7,Bb5,a6,Bxc6,Bxc6,Qd1,Qxb2,O-O,Qb6,Rb1,Qc7,a4,f6,Nh4,fxe5,Qh5+,g6', 'Nxg6,hxg6,Qxh8', 'https://lichess.org/training/KDuD4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KdUL6', 'Rapid', 'ajlondon', 1772, 'Charles-Emile', 1728, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,O-O,Nbd7,h3,b5,a3,Bb7,b4,Rc8,Bb2,Ne5,Be2,Nc4,Bxc4,Rxc4,e5,dxe5,Nb3,Qc7,Nc5,Bxc5,bxc5,Qxc5,a4,O-O,Ba3,Qc6,f3,Rc8,axb5,axb5,Nxb5,Qxb5,Rb1,Qa6,Be7,Nd5,Bh4,Ne3,Qd7,Nxf1,Rxb7,Qa1', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/KdUL6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KduPr', 'Rapid', 'hengus26', 1920, 'caldare', 1953, 'Nf3,d5,c4,e6,cxd5,exd5,a3,Nf6,g3,c5,Bg2,Nc6,O-O,Be7,d3,O-O,Nbd2,h6,Rb1,a5,e4,d4,Nc4,b5,Nce5,Nxe5,Nxe5,Bb7,b4,Nd7,Nxd7,Qxd7,bxc5,Bxc5,h4,Rac8,Kh2,Kh8,Bh3,Qc6,Bxc8,Bxc8,f4,f5,e5,Bb7,Qe2,Re8,Bb2,Kh7,Rg1,Qb6,Rbc1,Bd5,Qc2,Rc8,Bxd4', 'Bxd4,Qxc8,Bxg1+,Rxg1,Qf2+,Kh3,Qxg1', 'https://lichess.org/training/KduPr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KdVse', 'Rapid', 'Akylbek228', 1671, 'Cheri93', 1687, 'Nf3,d5,c4,d4,d3,c5,b4,cxb4,Qa4+,Bd7,Qxb4,Qc7,Nxd4,e5,Nb5', 'Bxb4+', 'https://lichess.org/training/KdVse');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kdXcn', 'Blitz', 'jt12345jt', 1509, 'ArtemZu', 1505, 'e4,e6,d3,c6,Nf3,d5,Nbd2,Nf6,e5,Nfd7,g3,g6,Bg2,Bg7,d4,Na6,O-O,c5,c3,b6,Re1,cxd4,cxd4,Nb4,Nf1,Ba6,a3,Nd3,Ne3,Nxe1,Qxe1,O-O,Nxd5,exd5,e6,fxe6,Qxe6+,Kh8,Ng5,Bf6,Nf7+,Rxf7,Qxf7,Bxd4,Bxd5,Qf8,Qxf8+,Rxf8,Be3,Bxe3,fxe3,Ne5,Rc1,Nd3,Rc7,Nxb2,Rxa7,Rf1+,Kg2,Rd1,Ra8+,Kg7,Bf3,Rd2+,Kh3,Bf1+,Kg4,h5+,Kg5,Rf2,Ra7+,Kf8,Bd5,Rf5+,Kxg6,Rxd5,Kf6,Nc4', 'Ra8+,Rd8,Rxd8#', 'https://lichess.org/training/kdXcn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kdYVm', 'Blitz', 'Tactica', 2001, 'Jersonpf', 2212, 'Nf3,Nc6,b3,e5,d3,Bb4+,Nbd2,d5,Bb2,d4,g3,Bg4,Bg2,Bxf3,Bxf3,a5,a3,Be7,O-O,h5,c3,h4,Re1,hxg3,hxg3,Qd6,Qc2,Qh6,e3,dxe3,Rxe3,Nf6,Kf1,Kf8,Ne4,Rd8,Ke2,Nd5,Rh1,Qxh1,Bxh1,Nxe3,Kxe3,Rxh1,d4,f5,Nc5,Bxc5,dxc5,g6,c4,Kf7,b4,axb4,axb4,Nd4,Bxd4,Rxd4,b5,Rhd1,Kf3,e4+,Kg2,R1d2,Qb3,g5,c6,b6,c5+,Kf6,cxb6,cxb6,c7,e3,c8=Q,Rxf2+,Kh3', 'g4+,Kh4,Rh2#', 'https://lichess.org/training/kdYVm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ke05v', 'Rapid', 'APVELK111', 1790, 'howdouplaythis', 1794, 'e4,c5,c4,g6,Nc3,Bg7,Nge2,Nc6,g3,Nf6,Bg2,O-O,O-O,d6,d3,Qb6,Na4,Qd8,Rb1,Bd7,b3,a6,Bb2,Nb4,Nb6,Qxb6,a3,Nc6,f4,Bg4,Bf3,Bxf3,Rxf3,Nd7,Bxg7,Kxg7,f5,Nde5,Rf1,Nd4,fxg6,fxg6,Nf4,Qa5,a4,Qc3,Nd5,Rxf1+,Qxf1,Qxd3,Nxe7,Nef3+,Kh1,Nd2,Qxd3,Nxb1,Qxb1,Rf8,Kg2,Rf3,b4,Rb3,Qe1,Rb2+,Kh3', 'Rxh2+,Kxh2,Nf3+,Kh3,Nxe1', 'https://lichess.org/training/Ke05v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ke1Yp', 'Rapid', 'ChessJPII', 1976, 'montecaseros', 1963, 'e4,e5,Nf3,f5,Nxe5,Qf6,d4,d6,Nc4,fxe4,Nc3,Qg6,Ne3,Nf6,Be2,Be7,Ncd5,Bd8,Nxf6+,Qxf6,Nd5,Qf7,Nc3,O-O,Nxe4', 'd5,f3,dxe4', 'https://lichess.org/training/Ke1Yp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kE3CG', 'Rapid', 'jespertjee', 1572, 'Stilvia', 1520, 'e4,e5,Nf3,Nc6,Bb5,Nh6,c3,Ng4,h3,Nf6,d3,h5,Be3,a6,Bxc6,dxc6,Nxe5,Qd6,Nf3,b6,e5,Qe6,exf6,Qxf6,Qe2,Bc5,Bg5+,Qe6,Qxe6+,Bxe6,d4,Bd6,O-O,Bg4,hxg4,hxg4,g3,f6,Nfd2,Rh5,Bf4,g5,Bxd6,cxd6,Re1+,Kd7,Ne4,Rah8,f3', 'Rh1+,Kf2,R8h2+,Ke3,Rxe1+', 'https://lichess.org/training/kE3CG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ke4U3', 'Rapid', 'ruben_ramos', 1910, 'SMKAli', 2053, 'c4,e5,Nc3,Nc6,e4,Bc5,Nf3,Nf6,Be2,d6,O-O,O-O,d3,a5,Bg5,h6,Bh4,Be6,h3,Re8,Nd5,g5,Nxg5,hxg5,Bxg5,Bxd5,exd5,Nd4,Kh1,Nxe2,Qxe2,a4,f4,e4,dxe4,Nxe4,Qg4,f5,Qh4,Qd7,Bh6,Bd4,Rae1,Bxb2,Rf3,Bf6,Qh5,Nf2+,Kh2,Rxe1,Qg6+,Qg7,Bxg7', 'Rh1+,Kg3,Ne4#', 'https://lichess.org/training/Ke4U3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ke4zU', 'Blitz', 'zurak958', 1776, 'AMER310119', 1728, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Ndb5,e5,Bg5,a6,Na3,Be7,Bxf6,gxf6,Nd5,Be6,Bc4,Rg8,Rg1,b5,Be2,Nd4,c4,Bxd5,cxd5,f5,exf5,Nxf5,Nc2,Bg5,Qd3,Rc8,Qxf5,Qa5+,b4,Qc7,Bd3,Qc3+,Ke2,Qd2+,Kf1,Ke7,g3,Rc3,Be4,Rgc8,Ne3,Bxe3,fxe3', 'Rc1+,Rxc1,Rxc1#', 'https://lichess.org/training/ke4zU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ke58x', 'Blitz', 'Binyaminschien', 1999, 'tuckermanjaro', 2006, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,exf4,O-O,Nf6,d4,Bg4,Bxf4,Qd7,Qe1,O-O-O,e5,Re8,Ng5,d5,Bb5,h6,Bxc6,Qxc6,Nxf7,Rg8,Qg3,h5,exf6,gxf6,Nh6,Rg6,Nxg4,Rxg4,Qf2,Bd6,Bxd6,Qxd6,Nc3,Reg8,g3,h4,Ne2,Kb8,Qxf6,Rxg3+,hxg3,Rxg3+,Kh1', 'Rh3+,Kg1,Qh2#', 'https://lichess.org/training/ke58x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ke8t6', 'Rapid', 'Chessitron', 2171, 'M-Dimash', 2009, 'd4,d5,c4,Bf5,Nf3,Nc6,Nc3,e6,a3,Nf6,Bg5,Be7,e3,O-O,Nh4,Bg6,Nxg6,fxg6,Be2,dxc4,O-O,Qd6,h3,Ng4,Bf4,e5,dxe5,Ngxe5,Nb5,Qxd1,Rfxd1,Bd8,Rac1,a6,Nc3,b5,Nd5,g5,Bg3,Re8,b3,Na5,f4,gxf4,exf4,Ng6,Bf3,c6,Nb4,Nxb3,Rc3,Na5,Nxc6,Bb6+,Kh2,Rac8,Ne5,Nxe5,fxe5,Nc6,e6,Nd4,Bd5,Rcd8,Bb7,a5,Re3,Nxe6,Rxd8,Bxd8,Bc6,Re7,Bd6,Bb6,Rxe6', 'Rxe6,Bd5,Kf7', 'https://lichess.org/training/ke8t6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KebyE', 'Rapid', 'Fiva', 1610, 'mohamad463', 1623, 'e4,e5,Nf3,d6,Bc4,h6,d4,f6,dxe5,fxe5,Nxe5,dxe5,Qh5+,Kd7,Qf5+,Kc6,Bd5+,Kb6,Be3+,c5,Qxe5,Nc6,Qc3,Nge7,Bxc5+,Kc7,Bc4,Kb8', 'Qg3+,Qc7,Bd6', 'https://lichess.org/training/KebyE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kEcVY', 'Rapid', 'justakid81', 1756, 'bob_habanai', 1753, 'e4,c6,Nc3,d5,e5,Bf5,d4,e6,g4,Bg6,h4,h5,g5,Ne7,Bd3,Bxd3,Qxd3,Nf5,Nge2,a6,Bf4,c5,Ng3,c4,Qe2,Nxd4,Qd2,Nbc6,O-O-O,b5,g6,fxg6,Bg5,Qa5,Nge2,Nf3,Qf4,Nxg5,Qxg5,b4,Qxg6+,Kd8,Qxe6,bxc3,Nxc3,Nb4,a3,Nd3+,cxd3,Bxa3,dxc4', 'Qxc3+,Kb1,Qxb2#', 'https://lichess.org/training/kEcVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kEd2H', 'Rapid', 'bakhshali2017', 1730, 'aloosh00', 1787, 'd4,d6,Bf4,g6,e4,Bg7,Nf3,Nf6,Nbd2,O-O,c3,a5,Bd3,d5,e5,Nh5,Be3,f6,h3,fxe5,dxe5,Nc6,g4,Nf4,Bxf4,Rxf4,Qe2,d4,Bb5,dxc3,bxc3,Qd5,Bc4,Rxc4,Nxc4,b6,Rd1,Qc5,O-O,Ba6,Nfd2,Nxe5,Rfe1,Nxc4,Qxe7,Nxd2,Rxd2,Bxc3', 'Rd8+,Rxd8,Qxd8+,Qf8,Re8', 'https://lichess.org/training/kEd2H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KEdgY', 'Classical', 'ultrachessnoob', 1657, 'KutuzovGambit', 1683, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,g6,Bc4,Bg7,O-O,O-O,Bg5,Nc6,Re1,Bg4,h3,Bxh3,gxh3,Qd7,Kh2,Nh5,Rg1,Rae8,Nh4,Nd4,Bh6,Bxh6,Qxh5', 'Bf4+,Kg2,gxh5', 'https://lichess.org/training/KEdgY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KeEgF', 'Blitz', 'FM Fusik1', 2597, 'Yerkinio1', 2515, 'd4,d6,c4,e5,d5,f5,e4,fxe4,Nc3,Nf6,Nge2,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Be3,Nbd7,Qd2,Be7,Be2,b6,Bd1,Nc5,Bxc5,bxc5,Bc2,Qd7', 'Ba4,Qxa4,Nxa4', 'https://lichess.org/training/KeEgF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KeGnk', 'Classical', 'ramsrakhi', 1805, 'Philmarco', 1796, 'e4,c5,Nf3,d6,Nc3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Nf6,O-O,Be7,h3,O-O,h4,a6,h5,Nxd4,Qxd4,Nxh5,e5,dxe5,Qxe5,Nf6,Bd3,Qd6,Qe2,b5,Ne4,Nxe4', 'Qxe4,f5,Qxa8', 'https://lichess.org/training/KeGnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kegzF', 'Blitz', 'FM Maurice93', 2547, 'IM Papagayo', 2633, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,Be3,a6,f4,Bb4,Qd2,Nf6,Bd3,b5,a3,Be7,h3,Nxd4,Bxd4,Bb7,O-O,Bc5,Qf2,Rc8,e5,Ng8,Be4,Bxd4,Qxd4,Ne7,Bxb7,Qxb7,Ne4,Nf5,Nd6+,Nxd6,Qxd6,Rxc2,Rf2,Rc6,Qb4,a5,Qxa5,O-O,Rd1,Rfc8,Qd2,R8c7,f5,exf5,Qg5,Qc8,Qxf5,Qe8,Rd5,Rc5,Rfd2,Rxd5,Rxd5,Rb7,Qd3,Qb8,Rxd7', 'Qa7+,Kh2,Rxd7', 'https://lichess.org/training/kegzF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KeHP2', 'Blitz', 'dalecarpio', 2154, 'ART1276', 2149, 'e4,c6,d4,d5,e5,g6,h4,h5,c4,Nh6,Nc3,Bg4,Qb3,dxc4,Bxc4,e6,Qxb7,Nd7,Bg5,Rb8,Qxc6,Qa5,Bb3,Bb4,f3,Bf5,Ne2,Bd3,O-O,Nf5,Ne4,Bxe2,Nf6+,Kf8,Nxd7+,Kg7,Bf6+,Kh7,Nxb8,Rxb8,Rf2,Nxd4,Qd7,Rf8,Qxd4,Bc5,Qc3,Qb6,Rc1,Bxf2+,Kh1,Be3,Re1,Bd4,Qd2,Bb5,g4,Bc6,gxh5,Bxf3+,Kh2,Bxh5,Qg5,Bf2,Bc2,Bxe1', 'Qxh5+,Kg8,Qh8#', 'https://lichess.org/training/KeHP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KeI2e', 'Rapid', 'Ali_shakrani04', 1805, 'USEYOURTIMEWISELY', 1780, 'Nf3,g6,d3,Bg7,g3,b6,Bg2,Bb7,O-O,e6,Nc3,d5,e4,Ne7,Bg5,h6,Bf4,Nbc6,Re1,g5,Bd2,d4,Nb5,a6,Na3,Qd7,e5,g4,Nh4,h5,Bf4,O-O-O,Nc4,Ng6,Nxg6,fxg6,c3,Ne7,Bxb7+,Kxb7,a3,Nf5,Qb3,Qc6', 'Na5+,Kc8,Nxc6', 'https://lichess.org/training/KeI2e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KeIUN', 'Rapid', 'LordAmeleus', 1713, 'lKerem', 1721, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Na6,a3,c5,d5,Bg4,Rb1,Nc7,O-O,Qd7,e5,dxe5,Nxe5,Bxe2,Qxe2,Qd6,h3,Nd7,Bf4,Nxe5,b4,f6,Ne4,Qd7,Nxc5,Qf5,Bxe5,Qxe5,Qxe5,fxe5,Nxb7,Rf7,Na5,Raf8,Nc6,e4,Rbe1,Rf4,Nxe7+,Kh8,g3,Rf3,Rxe4,Re8,Nxg6+,hxg6,Rfe1,Rff8,d6,Na6,d7,Rd8,Rd1,Nc7,c5,Bb2,a4,Rf7,c6,Rf6,b5,Ba3,h4,Bc5,a5,Bxf2+,Kg2,Bc5,Re2,Nxb5,Re8+,Rf8,Rb1,Nc7,Rxf8+,Bxf8,Rb7,Bd6,Rxa7,Kg7,Rb7,Kf6,Rb6,Ke6,a6,Nxa6,Rxa6,Kd5,g4,Be5', 'Ra5+,Kxc6,Rxe5', 'https://lichess.org/training/KeIUN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KEjcU', 'Classical', 'El_Kokun', 1643, 'GUANABACOA', 1646, 'e4,e6,Nf3,Nf6,Nc3,c5,d4,Nc6,Bg5,Be7,dxc5,O-O,Bxf6,Bxf6,Bd3,b6,O-O,Bb7,Re1,e5,Nd5,bxc5,Nxf6+,Qxf6,h4,Ne7,Ng5,h6,Nh3,Qxh4,f4,exf4,Rf1,Ng6,Qd2,Qg3,Rf3,Qh4,Raf1,f5,exf5,Bxf3,fxg6,Rae8,Rxf3,Re1+,Rf1,Rxf1+,Bxf1,Re8,Qxd7,Qe1,Qxa7,Qe3+,Kh1,f3,Nf2,Qxf2', 'Qf7+,Kh8,Qxe8#', 'https://lichess.org/training/KEjcU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kEKq5', 'Rapid', 'josevicentleones1940', 1841, 'gabriel3014', 1882, 'e4,c5,Nc3,e6,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,a3,d5,exd5,Nxd5,Nxd5,exd5,Be2,Bc5,Nf3,O-O,O-O,a6,Bf4,Qf6,Bg3,Qxb2,Rb1,Qxa3,Qxd5,Be6,Qe4,Rad8,c4,Rd7,Ng5,g6,Nxe6,fxe6,Qxe6+,Rdf7,Bf3,Nd4,Qd5,Nxf3+,gxf3,Qa5,Rxb7', 'Bxf2+,Rxf2,Qxd5,cxd5,Rxb7', 'https://lichess.org/training/kEKq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KekZk', 'Blitz', 'daniel921126', 1859, 'SOTEAPAN_VER', 2150, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nb3,e6,Nc3,a6,Be3,Qc7,Be2,Nf6,O-O,d6,Re1,Be7,Bf3,O-O,Qd2,Ne5,Qe2,b5,Rad1,Bd7,Bc1,b4,Nb1,Bb5,Qd2,Nxf3+,gxf3,Rad8,Kh1,a5,Rg1,Kh8,Qf4,e5,Qf5,Bd7,Qg5,Ne8,Qh5,g6,Qh6,Bf6,Bg5,Bg7,Qh4,f6,Bh6,Be6,Be3,a4,N3d2,d5,Rxg6,d4,Bh6,hxg6,Rg1,Bxh6,Rxg6,Rf7', 'Qxh6+,Rh7,Qf8+,Bg8,Rxg8#', 'https://lichess.org/training/KekZk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kelhr', 'Rapid', 'jagadeesanparthiban', 1992, 'Deilo', 1978, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nge7,Nc3,g6,Bg5,Bg7,Nxc6,bxc6,Bc4,O-O,O-O,Bb7,Qd3,d5,exd5,cxd5,Nxd5,Bxd5,Bxd5,Rb8,c3', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/kelhr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('keLuF', 'Rapid', 'TheCrownPrince', 1829, 'body222', 1843, 'e4,e6,d4,d5,exd5,Qxd5,c4,Qe4+,Ne2,Bb4+,Nc3,Bxc3+,bxc3,Nf6,Be3,O-O,Ng3,Qh4,Bd3,b6,Qd2,Bb7,f3,Nc6', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/keLuF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KEn0l', 'Rapid', 'Graphirus', 1619, 'PocketWatch60', 1619, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Nd4,Bc4,a6,Nxe5,Ne6,Bxe6,dxe6,Qf3,c6,Bg5', 'Qa5+,Nd2,Qxe5', 'https://lichess.org/training/KEn0l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('keoDE', 'Rapid', 'Smilefor4', 1782, 'Junior24', 1918, 'e4,e6,d4,d5,Nc3,Nf6,exd5,Nxd5,Nxd5,exd5,Nf3,Be7,h3,O-O,Bd3,h6,c3,Nd7,O-O,c5,dxc5,Bxc5,Be3,b6,Re1,Nf6,Qc2,Qc7,Rac1,Bb7,Bd4,Ne4,Re2,f5,Rce1,Bd6,Nh4,Rac8,f3', 'Bh2+,Kh1,Ng3+,Kxh2,Nxe2+', 'https://lichess.org/training/keoDE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KEPto', 'Classical', 'OMKUMAR8987', 1866, 'angelo888', 1898, 'e4,e6,d4,d5,e5,c5,Nf3,Qb6,Nc3,Nc6,Bb5,Bd7,Bxc6,Bxc6,dxc5,Bxc5,O-O,Ne7,a4,Ng6,a5,Qc7,Ne2,Nxe5,Nxe5,Qxe5,c3,Bd6', 'Bf4,Qxe2,Qxe2', 'https://lichess.org/training/KEPto');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kER7K', 'Classical', 'Veni13', 1716, 'donjuand', 1719, 'e4,c5,f4,e5,d3,Nc6,Qg4,d5,Qg3,f6,Nf3,Qc7,exd5,Nd4,Nc3,Nxf3+,Qxf3,a6,f5,Qd6,Qh5+,Ke7,b3,b5,Be2,Bb7,Bf3,Rd8,Be3,Qb6,Ne4,Rxd5,Nxc5,Rxc5,Bxc5+,Qxc5,Bxb7,Qc3+,Kf2,Qd2+,Qe2,Qf4+,Qf3,Qd2+,Qe2,Qf4+,Bf3,Qxf5,a4,Kf7,axb5,Bc5+,Kf1,axb5,Ra5,Ne7,Rxb5,Bd4,g4,Qf4,Kg2,f5,h3,h5,gxh5,Qg5+,Kf1,Qc1+,Qd1,Qxd1+,Bxd1,f4,Bg4,Ra8,Ke2,Ra2,Kf3,Rxc2,Ke4,Nc8,Rb7+,Kf6,b4', 'Nd6+,Kd5,Nxb7', 'https://lichess.org/training/kER7K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kErdq', 'Blitz', 'DenizBey4848', 1665, 'erenalpcelikcanizmir', 1662, 'e4,d5,Nc3,Nf6,e5,Ng4,d4,c5,h3,Nh6,Bxh6,gxh6,Nf3,Nc6,Bb5,Bd7,e6,fxe6,Bxc6,Bxc6,Ne5,Bg7', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/kErdq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KErUP', 'Rapid', 'leydejuego', 1924, 'Karakino', 2009, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,g3,b5,Bg2,Bb7,O-O,Nc6,c3,Nxd4,cxd4,Nf6,Re1,Bb4,Nc3,O-O,Bg5,h6,Bxf6,Qxf6,e5,Qe7,Bxb7,Rab8,Bg2,Ba5,Re3,Rfc8,d5,Bxc3,d6,Qg5,h4,Qf5,bxc3,Rc4,a4,bxa4,Rxa4', 'Rb1,Ra1,Rxd1+', 'https://lichess.org/training/KErUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KetHu', 'Classical', 'Concordia7', 1664, 'rroseselavyy', 1663, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nh6,a3,Nf5,b4,cxd4,cxd4,Qb6,Bb2,a5,b5,Na7,a4,Bb4+,Nc3,O-O,Be2,f6,O-O,Bd7,Bd3,Nxd4,Nxd4,fxe5,Nde2,e4,Bc2,Bc5,Ng3,Bxf2+,Kh1,Rf6,Qg4,Raf8,Nh5,Rg6,Nxd5,Qc5,Ba3,Qxd5,Qxe4,Qxh5,Bxf8', 'Qxh2+,Kxh2,Rh6+,Qh4,Rxh4#', 'https://lichess.org/training/KetHu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('keTPG', 'Rapid', 'berries', 1782, 'Gustav_Molotov', 2080, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Be2,g6,Nf3,Bg7,d4,Nh6,O-O,Nf5,Re1,Nc6,d5,Bxc3,bxc3,Nd8,c4,c6,a4,e6,d6,Qc3,Ba3,Bd7,Bd3,b6,Ne5,c5,Qc1,Rg8,Bb2,Qb4,Rb1,Nxd6,Qh6,Qxa4,Qxh7,Rf8,Qg7,Bc6,Nxg6,fxg6,Bxg6+,N8f7,Rxe6+,Kd7,Rxd6+,Kxd6,Rd1+,Kc7,Be5+,Kb7,Bxf7,Rad8,Ra1', 'Qxa1+,Bxa1,Rd1#', 'https://lichess.org/training/keTPG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kexiW', 'Rapid', 'glebovtut', 1843, 'MaquinaDeFuego_24', 1708, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Nxd4,Bd7,O-O,Be7,Qf3,Nf6,Nf5,O-O,Nc3,Ne5,Qe2,Re8,Bg5,Nxc4,Qxc4,Bxf5,exf5,d5,Qd3,c6,Rfe1,Qd6,Ne2,Ng4,Bf4,Qc5,Nd4,Bf6,c3,Ne5,Bxe5,Rxe5,Rxe5,Bxe5,g3,Qb6,b3,Bxd4,Qxd4,Qxd4,cxd4,Re8,Kf1,Re4,Rd1,Kf8,h3,Ke7,g4,Kf6,Rd2,Kg5,Kg2,Kh4,f3,Re3,Kf2,Re7,Kg2,Re3,b4,a6,Kf2,Re7,Kg2,f6,Kh2,Re1,Rb2,Kg5,Kg3,Rg1+,Rg2,Re1,h4+,Kh6,g5+,fxg5', 'hxg5+,Kxg5,Kf2+,Kxf5,Kxe1', 'https://lichess.org/training/kexiW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KeXoY', 'Rapid', 'riqalv', 1536, 'Eselkopf', 1598, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,d3,Nc6,Bd2,Bg4,f3,Bh5,Ne4,Qe5,f4,Qf5,Nxf6+,gxf6,Nf3,O-O-O,h3,Qg6,g4,Bxg4,hxg4,Qxg4,Bxf7,Qg3+,Kf1,e5,Rg1,Qh3+,Kf2,Bc5+,Be3,Nd4,Bxd4,Bxd4+,Nxd4,Rxd4,fxe5', 'Rf4+,Ke1,Qe3+,Qe2,Qxg1+', 'https://lichess.org/training/KeXoY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KezgR', 'Classical', 'lkdddddsjaf', 1707, 'titotony', 1714, 'e4,e5,f4,exf4,Nf3,d6,h3,Nc6,d4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,Nxc3,bxc3,Qe7+,Be2,g5,O-O,g4,hxg4,Bxg4,Re1,O-O-O,Rb1,Rg8,Ba6,Qd6,Bxb7+,Kd7,Bxc6+,Kxc6,Ne5+', 'Qxe5,Rxe5,Bxd1', 'https://lichess.org/training/KezgR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kEZsm', 'Rapid', 'khashayarn', 2060, 'Ekater84', 2189, 'd4,e6,e3,c5,f4,b6,Nf3,Bb7,c3,Nf6,Bd3,d6,O-O,Nbd7,Nbd2,Be7,e4,e5,fxe5,dxe5,d5,a6,Qe2,b5,b3,O-O,Bb2,Ne8,c4,bxc4,Nxc4,f6,Nh4,Nd6,Nxd6,Bxd6,Nf5,Qc7,Qg4,g6,Nh6+,Kg7,Nf5+,Kh8,Nh6,Rae8,Rf3,Nb6,Raf1,Bc8,Qh4,Be7,Qg3,Nd7,h4,Bd8,h5,g5,Nf5,Nb6,R3f2,Bxf5,Rxf5,Kg8,h6,Nc8,a4,Nd6,R5f2,Qb7,Bc2,c4,Ba3,cxb3,Bxb3,Qb6,Kh1', 'Nxe4,Qf3,Nxf2+,Qxf2,Qxb3', 'https://lichess.org/training/kEZsm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kf0Hk', 'Blitz', 'DenisDaleckis', 1968, 'DominikA7', 1888, 'd4,Nf6,Bf4,e6,Nf3,d5,Nbd2,Bd6,Ne5,c5,e3,Nc6,c3,Qc7,Ndf3,O-O,Bg3,Ne7,h3,Ne4,Bh2,f6,Ng4,Bxh2,Ngxh2,Nf5,Bd3,Nxe3,fxe3', 'Qg3+,Kf1,Qf2#', 'https://lichess.org/training/kf0Hk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KF15y', 'Blitz', 'LucashBin', 2024, 'samerh777', 2027, 'e4,Na6,Nf3,Nh6,Nc3,Nc5,d3,Ng8,Be3,b6,Bxc5,bxc5,Be2,d6,O-O,e5,Nd5,Bb7,Ne3,g6,Qc1,Bg7,c3,Ne7,Qc2,d5,exd5,Nxd5,Nxd5,Bxd5,Rfe1,O-O,a3,f5,Rab1,e4,Nd2,exd3,Bxd3,Kh8,Bc4,Bc6,Rbd1,Qg5,Bf1,Rfe8,Qd3,Red8,Nf3,Qf6,Qe2,Re8,Qd3,Red8,Qc2,Bxf3,gxf3,Qg5+,Bg2,Qf4,Rxd8+,Rxd8,Rd1,Rxd1+,Qxd1,Be5,h3,Bd6,Qe1,Kg7,Qd1,Kh6,Qc2,Kg5,c4,Kh4,b3,Qd4,Qc1,Bf4,Qe1,Qb2,Qe7+,Bg5', 'Qxh7+,Bh6,Qxh6#', 'https://lichess.org/training/KF15y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KF1gF', 'Rapid', 'JuanPabloBeltran', 1640, 'Ziphere', 1638, 'd4,e6,c4,d5,cxd5,exd5,Nc3,c6,Bf4,Qb6,Nf3,Qxb2,Bd2,Qa3,e3,Nf6,Bd3,Bb4,O-O,Bxc3,Bxc3,Qxc3,Ne5,O-O,f4,Nbd7,Bc2,Ne4,Rf3,Qd2,Qb1,Ndf6,Qb2,Bg4,Nxg4,Nxg4,Rd1,Qe2,Qb1,Nd2,Rxd2,Qxd2,Bxh7+,Kh8,Bf5,Nxe3,Rh3+,Kg8,Bh7+,Kh8,Be4+,Kg8', 'Bh7+,Kh8,Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/KF1gF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kf5qn', 'Blitz', 'NF17', 2310, 'CM Michal248', 2347, 'd4,e6,c4,Nf6,Nc3,Bb4,e3,b6,Ne2,Bb7,a3,Bxc3+,Nxc3,Ne4,Nxe4,Bxe4,f3,Bb7,Bd3,f5,O-O,O-O,b3,d6,Bb2,Nd7,Qe2,c5,e4,fxe4,fxe4,cxd4,Bxd4,e5,Be3,Nc5,b4,Ne6,c5,Kh8,Rxf8+,Qxf8,cxb6,axb6,Bxb6,Nf4,Qd2,Qf6,Be3,d5,exd5,Bxd5,Bxf4,exf4,Rf1,Rxa3,Rxf4,Ra1+,Bf1,Qb6+,Qd4,Qxd4+,Rxd4,Bg8,Rd8,h5,Kf2,Kh7,h3,Be6,b5,Ra2+,Kg3,Rb2,Rb8,Bd5,b6,g5,Bd3+,Kg7,Ba6', 'Rxg2#', 'https://lichess.org/training/Kf5qn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kf6qz', 'Rapid', 'dmahidhara', 1608, 'Sseeker', 1655, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Ng4,Qxe4+,Ne3,Nf6,O-O,Bd6,Re1,O-O,d3,Qe5,g3,Bc5,Nc4,Qd4,Be3,Qd5,Nc3,Qf5,Bxc5,Qxc5,Ne4,Nxe4,Rxe4,Bf5', 'Re5,Qd4,Rxf5', 'https://lichess.org/training/Kf6qz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kf7DI', 'Rapid', 'kuratete', 1677, 'glanzeh', 1783, 'c4,e6,Nf3,c6,Nc3,d5,e3,dxc4,Bxc4,Be7,O-O,h6,d4,Bd6,b3,a6,Bb2,b5,Bd3,f6,Bg6+,Kd7,Ne4,Bc7,Nc5+,Ke7,Ba3,Bd6,Qc1,a5,Nd3,b4,Bb2,Ba6,Nc5,Bxf1,Qxf1,Qb6,Rc1,Bxc5,Rxc5,Kd7,Qc1,Ne7,Be4,Nd5,Bxd5,exd5,Nh4,Na6,Rc2,g5,Nf5,Ke6', 'Rxc6+,Qxc6,Qxc6+', 'https://lichess.org/training/Kf7DI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kF7vL', 'Blitz', 'crakouf', 1930, 'Agizer', 1786, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,Qc2,c6,e3,h6,Bh4,Bg4,Bd3,Nbd7,f3,Be6,Nge2,a6,O-O,O-O,Rab1,c5,dxc5,Nxc5,Nd4,Nxd3,Qxd3,Rc8,Rbd1,Qb6,Rd2,Rc7,Rfd1,Rfc8,Qe2,Ne4,fxe4,Bxh4,exd5,Bd7,Kh1,Bg5,Qf3,Rxc3,bxc3,Rxc3,Rd3,Rxd3,Rxd3,Qb1+,Rd1,Qxa2,Rf1,Be8,e4,Qd2,Nf5,f6,d6,b5,Rd1,Qb4,d7,Bxd7,Rxd7', 'Qe1+,Qf1,Qxf1#', 'https://lichess.org/training/kF7vL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KF7y4', 'Blitz', 'KnightyOne', 1563, 'king_kabute', 1558, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,d6,Be2,Nf6,Qd2,Bd7,Bh6,O-O,Bxg7,Kxg7,h4,h5,O-O-O,Qa5,Kb1,Rac8,a3,Nxd4,Qxd4,b5,f3,Kh7,Rhg1,Rc6,g4,e5,Qe3,Rfc8,Rd3,b4,axb4,Qxb4,g5,Rxc3', 'Rxc3,Rxc3,Qxc3,Qxc3,bxc3', 'https://lichess.org/training/KF7y4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KfApu', 'Rapid', 'Suleymanshah', 1618, 'ninka0245', 1662, 'd4,d5,Bf4,Nf6,c3,Bf5,Nd2,e6,e3,Bd6,Bg3,Nc6,Ngf3,h6,Bb5,Bxg3,hxg3,Qd7,Ne5,Qd6,Nxc6,bxc6,Ba4,Ne4,Nxe4,Bxe4,Rh2,O-O,Bc2,Bxc2,Qxc2,e5,O-O-O,e4,g4,Rab8,g3,c5,g5,hxg5,Rdh1,f6,f3,Qa6,a3,Rb6,fxe4,Rfb8,Rh8+,Kf7,Rxb8,Rxb8,exd5,cxd4,exd4,Re8,Qf5,Re2,Qd7+,Kg6,g4', 'Qd3,Qf5+,Qxf5,gxf5+,Kxf5', 'https://lichess.org/training/KfApu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KFbCQ', 'Classical', 'Victor50', 2085, 'ArcherofWhite', 1646, 'e4,b6,f4,Bb7,Nc3,Nf6,d3,d5,e5,d4,Nce2,Ng4,Ng3,Ne3,Bxe3,dxe3,Qe2,Qd4,O-O-O,Qxf4,d4,Bd5,Nh3,Qh6,Nf5,Qe6,Nxe3,h6,b3,a5,c4,Bb7,Nf4,Qd7,d5,a4,a3,axb3,Qb2,Qa4,Rd3,e6,Qxb3,Bxa3+,Kd1,Bb4,Qxa4+,Rxa4,dxe6,O-O,exf7+,Rxf7,Rd8+,Kh7', 'Bd3+,g6,Bxg6+', 'https://lichess.org/training/KFbCQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kfBzU', 'Rapid', 'Mylo24', 1666, 'LuthienTinuviel', 1639, 'e4,e5,Nf3,Nf6,d4,Nxe4,Be3,exd4,Nxd4,Qe7,Nc3,Nxc3,bxc3,Qa3,Nb5,Qa5,Bc4,c6,Qf3,f6,Bf4,cxb5,Bd5,Nc6,O-O,Ne5,Rfe1,Bd6,Bg5,Kd8,Bxf6+,Kc7', 'Bxe5,Bxe5,Rxe5', 'https://lichess.org/training/kfBzU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFC3w', 'Rapid', 'las40vachas', 1835, 'the_RedViper', 1858, 'd4,e6,Nf3,c5,Bg5,f6,Bh4,Nc6,d5,exd5,Qxd5,Qe7,e3,d6,Bb5,Bd7,Nbd2,O-O-O,O-O,g5,Bg3,g4,Nh4,Ne5,a4,h5,Ne4,f5,Nxd6+,Qxd6,Qxe5,Qxe5,Bxe5,Rh7,Bxd7+,Rdxd7,Nxf5', 'Rd5,Bc3,Rxf5', 'https://lichess.org/training/kFC3w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kfDX6', 'Blitz', 'khnum', 1705, 'PawnsAreOP', 1802, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bg5,Bf5,Bxf6,exf6,Nf3,Bb4,Be2,O-O,O-O,Nd7,Nd5,Bd6,Bd3,Bg6,Bxg6,hxg6,c4,c6,Nc3,Re8,c5,Bb8,Qd3,Qc7,g3,f5,Rfe1,Rxe1+,Rxe1,Kf8,Ng5,f4,Qf3,b6,b4,bxc5,bxc5,Qa5,gxf4,Bxf4,Qh3,Nf6', 'Qh8+,Ng8,Nh7#', 'https://lichess.org/training/kfDX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kfe4c', 'Rapid', 'YAH80', 1799, 'Marat4791', 1743, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,d4,exd4,Nxd4,Bd7,Bg5,h6,Bh4,Be7,Re1,O-O,c3,Nxd4,Bxd7,Qxd7,Qxd4,Qg4,e5,dxe5', 'Qxg4,Nxg4,Bxe7', 'https://lichess.org/training/kfe4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KfeLC', 'Classical', 'Sauerpower', 1858, 'stevedapirate', 1830, 'd4,e5,c3,exd4,cxd4,Nf6,Nf3,d5,e3,a6,Be2,Bg4,O-O,Bd6,Nc3,h5,h3,Bxf3,Bxf3,g5,Qb3,g4,Bxd5,Nxd5,Qxd5,gxh3,g3,h4,g4,Rg8,f3,c6,Qe4+,Kf8,Ne2,Qd7,Nf4,f5,Ne6+,Kf7,Qxf5+,Ke8,Qh5+,Qf7,Qxf7+,Kxf7,Nf4,Bxf4,exf4,Nd7,f5,Rae8,Bf4,Re2,Rf2,Rge8,Raf1,Nf6,Be5,Rxf2,Kxf2,Nd5,a3,c5,Re1,cxd4,Bxd4', 'Rxe1,Kxe1,h2', 'https://lichess.org/training/KfeLC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kfEsu', 'Rapid', 'PalmeKimya', 1732, 'Max_Hamburg', 1611, 'd4,d5,Nf3,Nc6,Bf4,Bf5,e3,f6,c4,e6,Bd3,Bxd3,Qxd3,Bb4+,Nc3,g5,Bg3,Nh6,cxd5,exd5,O-O,Bd6,Nxd5,Bxg3,Nxf6+,Qxf6,fxg3,O-O-O,Ne5,Qe6,Nxc6,Qxc6,Rac1,Qd6,Qe4,Rde8,Qd3,Ng4,Qf5+,Qe6,Qc5,Qxe3+,Kh1,c6,Qxa7,Nf2+,Kg1,Nd3+,Kh1,Nxc1,Qa8+,Kd7,Qxb7+,Kd6,Qb4+,c5,Qxc5+,Kd7,Qa7+,Ke6,Qb6+,Kd5,Qc5+,Ke4,Qc2+,Qd3,Re1+,Kxd4,Qa4+,Qc4,Rd1+,Nd3,Qa7+,Qc5,Qd7+,Qd5', 'Rxd3+,Kxd3,Qxd5+', 'https://lichess.org/training/kfEsu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kfgMC', 'Blitz', 'BorninUSSR', 1962, 'curtains', 2046, 'e4,c5,Nc3,Nc6,Bc4,g6,d3,Bg7,a3,d6,Nge2,Nd4,Bg5,Qc7,Nxd4,cxd4,Ne2,e5,Qd2,Ne7,O-O,O-O,Ng3,Kh8,Bh6,f5,Bxg7+,Kxg7,f4,fxe4,dxe4,Qxc4,fxe5,dxe5,Rxf8,Kxf8,Rf1+,Kg7,Qg5,Qe6,Nh5+,Kg8,Nf6+,Kg7,Ne8+,Kg8,Nf6+,Kg7,Ne8+,Kg8,Rf6,Qg4,Qxe5,Nc6,Qd5+,Be6,Rxe6,Qd1+,Kf2,Qd2+,Kg3,Qe3+,Kg4,h5+,Kh4', 'Qf4+,g4,Qxg4#', 'https://lichess.org/training/kfgMC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFhfh', 'Rapid', 'Cash_Snail', 1882, 'chacho14', 1855, 'c4,e5,Nc3,d6,g3,Nf6,Bg2,c6,Nf3,g6,d4,exd4,Nxd4,Bg7,O-O,O-O,Bf4,a6,a4,Nh5,Be3,Nd7,Qc2,Nc5,Rfd1,Ne6,Nf3,Nf6,Bf4,Nxf4,gxf4,Bg4,a5,Nh5,e3,Rb8,h3,Bf5,e4,Bd7,Rxd6,Nxf4,Rad1,Bxc3,bxc3,Qxa5,Rxd7,Qc5,Bf1,f5,exf5,Rxf5,Qe4,Rbf8,Rxb7,Nh5,Qe6+,Kh8,Qd7,Rg5+,Nxg5', 'Qxf2+,Kh1,Ng3#', 'https://lichess.org/training/kFhfh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kfjl6', 'Rapid', 'ramon511', 1681, 'jeddeh', 1675, 'e4,e5,Nc3,Nc6,Bc4,Nf6,Nf3,Nxe4,Bxf7+,Kxf7,Nxe4,Be7,d4,d6,d5,Nb4,c3,Na6,Bg5,Bg4,Bxe7,Qxe7', 'Nfg5+,Kg8,Qxg4', 'https://lichess.org/training/Kfjl6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFjxX', 'Rapid', 'maslend', 1720, 'Ayaan8003', 1710, 'b3,Nc6,Bb2,e5,e3,e4,Nc3,d5,Bb5,Nf6,f3,Bd6,Qe2,O-O,fxe4,dxe4,O-O-O,Bg4,Qc4,Ne5,Qa4,Bxd1,Kxd1,Nfg4,Nh3,Nf6,Nxe4,Nxe4,Qxe4,c6,Be2,Re8,Qd4,Qb6,Qxd6,Rad8,Qa3,c5,Bc3,Qd6,d3,a6,Nf4,Qd7,Kc1,Ng4,Ba5,Rc8,h3,Nxe3,Bg4,f5,Bf3,Qd4,Ne2', 'Qa1+,Kd2,Qxh1', 'https://lichess.org/training/kFjxX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFkEJ', 'Rapid', 'nevagivup', 1936, 'charis_15', 2227, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,Be7,c4,b6,Nc3,Bb7,Be2,O-O,O-O,Nbd7,h3,c5,b3,a6,Rc1,Rc8,Be5,dxc4,Bxc4,b5,Be2,Nxe5,dxe5,Nd7,Nd2,Nxe5,Qc2,Bf6,Rfd1,Qe7,Nde4,Rfd8,Nxf6+,Qxf6,Ne4,Bxe4,Qxe4,c4,bxc4,Nxc4,Bxc4,Rxd1+,Rxd1,bxc4,Qb7,Rf8,Qxa6,Qc3,Qb5,Qc2,Qb1,Qxb1,Rxb1,Ra8,Rb2,g6,Kf1,Kg7,Ke2,Kf6,Kd2,Ra3,f3', 'c3+', 'https://lichess.org/training/kFkEJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KfKgt', 'Blitz', 'RomanTkhoruk', 1690, 'ALjedi-cat', 1627, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,e5,Bc4,Bb4,a3,Bxc3+,bxc3,O-O,O-O,Nxe4,Re1,d5,Bd3,Nxc3,Bxh7+,Kxh7,Qh5+,Kg8,Re3,Ne4,g4,Nf6,Qh4,Bxg4,Rxe5,Qd6,Rg5,Qe6,Rxg7+,Kxg7,Bh6+,Kg8', 'Qg5+,Kh7,Qg7#', 'https://lichess.org/training/KfKgt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KfKWy', 'Rapid', 'Weonk', 1716, 'jfigueroaucsc', 1660, 'e4,c5,Nc3,Nc6,Bc4,g6,d3,e6,Nf3,d6,Bg5,f6,Bh4,Bg7,Bb5,Ne7,d4,cxd4,Nxd4,O-O,Nxc6,bxc6,Bc4,d5,exd5,cxd5,Bb3,Nf5,Bg3,Nxg3,hxg3,Bd7,Nxd5,exd5,Bxd5+,Kh8,Bxa8,Qxa8,Qxd7,Qxg2,O-O-O,Qxf2,Qe7,Qb6,b3,Qa5,Rd7,Rg8,Qf7,Qc3,Qc4', 'Qa1+,Kd2,Qxh1', 'https://lichess.org/training/KfKWy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFlmR', 'Blitz', 'Coronica', 2492, 'fakin77', 2424, 'd4,g6,e4,Bg7,c4,d6,Nc3,Nc6,d5,Nd4,Be3,c5,Nge2,Qb6,Qd2,f5,O-O-O,Nxe2+,Bxe2,fxe4,Nxe4,Nf6,Ng5,Ng4,Bxg4,Bxg4,f3,Bd7,Rhe1,Qa6,b3,b5,cxb5,Bxb5,Ne6', 'Qa3+,Kb1,Bd3+,Qxd3,Qb2#', 'https://lichess.org/training/kFlmR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFMB1', 'Classical', 'antacolorado', 2120, 'luckslegend2468', 2112, 'Nf3,Nf6,a3,g6,d3,Bg7,d4,d5,Nc3,b6,Bg5,Bb7,Qd2,h5,Bxf6,Bxf6,O-O-O,c5,Kb1,cxd4,Nxd4,e5,Nf3,d4,Na2,O-O,e3,dxe3,fxe3,Nc6,Qe1,Qe7,Nc3,Na5,e4,Rac8,h3,Rfd8,g4,Rxd1+,Nxd1,Nc4,Bxc4,Rxc4,Nc3,hxg4,hxg4,Qc5,g5,Bg7,Qe2,b5,Re1,Bc6,Rd1,b4,Rd8+,Bf8,axb4,Rxb4,Qd2,Bxe4,Nxe4,Rxe4,Qd5,Qxd5,Rxd5,f6,gxf6,Kf7', 'Ng5+,Kxf6,Nxe4+', 'https://lichess.org/training/kFMB1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KfMgP', 'Rapid', 'Armandovasc', 2003, 'cesdemon', 1921, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,dxc4,a4,Bf5,e3,e6,Bxc4,Bb4,O-O,O-O,Qe2,Nbd7,e4,Bg4,Na2,a5,Nxb4,axb4,Bd2,Qb6,Be3,Qc7,h3,Bh5,Bg5,Bg6,e5,Nd5,Bxd5,cxd5,Rac1,Qa5,b3,Nb8,Rc5,Qb6,Rb5,Qc6,Rc1,Qd7,Rxb4,Nc6,Rb5,h6,Be3,Rfc8,Qd2,Rc7,Rbc5,Rac8,b4,Na7,b5,b6,R5c3,Rc4,Rxc4,Rxc4,Qa2,Qc7,Rxc4,dxc4,Nh4,Be4,f3,Bd5,f4,c3,Qc2,Qc4,f5,Qb3,Qxb3,Bxb3,a5,bxa5,b6,Nc6,fxe6,fxe6,b7,Bd5,Ng6,Kf7,Nf4,Be4,Ne2,c2,Nc3,Bd3,d5,exd5,Nxd5,Ba6', 'e6+,Kxe6,Nc7+,Ke5,Nxa6', 'https://lichess.org/training/KfMgP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFMjN', 'Blitz', 'arburritodemachaca', 1645, 'jvm', 1564, 'e4,e6,Nf3,d5,e5,c5,d4,cxd4,Nxd4,Qc7,a3,Qxe5+,Be3,Nf6,Nf3,Qc7,c3,Bd7,Nbd2,Nc6,Bd3,Qb6,Bxb6,axb6,b4,b5,Nf1,Bd6,Ng3,Ne5,O-O,Nc4,Bxc4,bxc4,Re1,Ba4,Qd2,O-O,Ne5,b5,f3,Bxe5,Rxe5,Nd7,Rh5,Nf6,Rg5,h6,Rg4,Nxg4,fxg4,g6,Rf1,Kh7,Qf4,f5,gxf5,gxf5,Nh5,Kg6,Ng3,Bc2,Ne2,Bd3,Re1,Rxa3,Nd4,Rg8,Rxe6+,Kf7,Qc7+,Kf8,Rf6+,Ke8,Qb8+,Ke7,Re6+,Kf7,Qb7+,Kf8,Rc6', 'Ra1+,Kf2,Rf1+,Ke3,f4+,Kd2,Rxg2+,Ne2,Rxe2#', 'https://lichess.org/training/kFMjN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KFMpz', 'Rapid', 'milad2012', 1738, 'Dragon-Lord', 1936, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Nc3,Nf6,Bg5,Be7,Be2,h6,Bxf6,Bxf6,O-O,Bxc3,bxc3,Qf6,Qd4,Qg6,Bd3,O-O,e5,Qe6,f4,d6,exd6,Qxd6,Qxd6,cxd6,Be4,d5,Bf3,Ba6,Rfe1,Rfe8,Kf2,Rab8,Rab1,Rxe1', 'Rxb8+,Kh7,Kxe1', 'https://lichess.org/training/KFMpz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFMra', 'Rapid', 'momo_klaus', 1880, 'vovangarag', 1835, 'e4,e5,f4,exf4,Nf3,d5,e5,f6,d4,g5,exf6,Qxf6,h4,g4,Ne5,g3,Qh5+,Ke7,Nc3,Be6,Bd3,Bh6,O-O,Nc6,Nxc6+,bxc6,Kh1,Rf8,Ne2,Qf7,Qe5,Qf6,Qxc7+,Bd7,Bxf4', 'Qxh4+,Kg1,Qh2#', 'https://lichess.org/training/kFMra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KFmuZ', 'Rapid', 'deepan88', 1926, 'omkar144', 1919, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Nf6,Bc4,Bb4,Nxc6,bxc6,e5,Nd5,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,Qa5,Qd2,Qxe5+,Be2,Ba6,f3,Bxe2,Qxe2,Qxc3+,Kf2,Qc5+,Kf1,O-O,g4,f5,g5,Rab8,Kg2,Rb2,Rhc1,Rfb8,h4,Qd4,Kg3,R8b4,Rh1,Qf4+,Kf2,Rc4,Rac1,Rcxc2,Rxc2,Qd4+,Kg3,Rb4,Rd2,Qf4+,Kg2,Qc7,Rhd1,Rxh4,Rd6,Kf8,Qf2,Rh5,f4,c5,Rxd7,Qc6+,Qf3', 'Rh2+,Kxh2,Qxf3', 'https://lichess.org/training/KFmuZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KFnMa', 'Classical', 'Rajkumar_du', 1800, 'tomasjrl', 1813, 'e4,e5,Nf3,Nc6,d4,d5,dxe5,dxe4,Qxd8+,Nxd8,Ng5,Ne6,Nxe4,f5,Ng3,Nd4,Bd3,Be6,Nc3,O-O-O,Bg5,Ne7,O-O-O,h6,Be3,Nec6,Rhe1,g5,Nh5,Nxe5,Bxd4,Rxd4,Rxe5,Bf7,Bxf5+,Kb8,Rxd4,Bd6,Re1,Bxh5,g4,Be8,Rde4,Bc6,Nd5,a6,c4,h5,R4e2,hxg4,Bxg4,Bxd5,cxd5,Rxh2,Kb1,Ka7,Re6,Rxf2,Rg6,Bf4,Re7,Rd2,Rd7,Rg2,Bf3,Rf2,Be4,Re2,Re6,Re1+,Kc2,g4,Rf7,Bd6,Bf5,Rf1,Re4,Rf2+,Kc3,g3,Rg4,Be5+,Kd3,Bd6,Be6,Rxb2,a4,b5,axb5,axb5,Rd7,Rb3+,Kc2,Ra3,Rgg7,Kb6,Rg6,Ra2+,Kb1,Rh2,Rdg7,b4,Bf5,Kc5,Bc2,Rh1+,Ka2,Be5,Rd7', 'Ra1+,Kb3,Ra3#', 'https://lichess.org/training/KFnMa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kfNpV', 'Rapid', 'chiannuck', 1815, 'meldo8', 1811, 'e4,c5,Nf3,Nc6,Bb5,Qc7,Nc3,e6,d3,Nge7,Be3,d6,O-O,g6,d4,Bg7,d5,exd5,exd5,a6,Bxc6+,bxc6,Re1,O-O,dxc6,Nxc6,Bf4,Ne5,Nxe5,dxe5,Nd5,Qd6,Bg5,f6,Nxf6+,Rxf6,Bxf6,Qxf6', 'Qd5+,Qf7,Qxa8', 'https://lichess.org/training/kfNpV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KFoG9', 'Rapid', 'kindruk', 1722, 'BlKTOP', 1825, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,d3,Bg4,f3,Bd7,Bd2,Qh5,Nge2,e6,Nf4,Qc5,a3,Nc6,b4,Qe5+,Nce2,Nd4,O-O,g5,Nxd4', 'Qxd4+,Kh1,gxf4', 'https://lichess.org/training/KFoG9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KfP7b', 'Rapid', 'abyss_rave', 1849, 'Heldo_Luis', 1739, 'd3,d5,Bh6,gxh6,Nf3,Bg4,d4,Bxf3,exf3,Nc6,Bb5,Qd7,c4,dxc4,d5,Qd6,dxc6,bxc6', 'Qxd6,cxd6,Bxc6+,Kd8,Bxa8', 'https://lichess.org/training/KfP7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFpHA', 'Rapid', 'abokalil', 1906, 'Piratesking', 1890, 'f4,Nf6,Nf3,g6,e3,Bg7,Bc4,O-O,O-O,e6,d3,d5,Bb3,b6,c3,Bb7,Nbd2,Nbd7,Ne5,c5,d4,c4,Bc2,a6,Ndf3,Rc8,Qe1,Nh5,Kh1,Nhf6,Kg1,Nh5,g4,Nhf6,Qg3,b5,f5,Nxe5,dxe5,Ne4,Bxe4,dxe4,Ng5,Qxg5,f6,Bh6', 'h4,Qxg4,Qxg4', 'https://lichess.org/training/kFpHA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFQJm', 'Classical', 'Dubem096', 1848, 'king-Immortal', 1851, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,f4,Nbc6,Nf3,O-O,Bd3,c4,Be2,Qa5,Bd2,Bd7,O-O,b5,Qb1,a6,Bc1,Qxc3', 'Bd2,Qxd2,Nxd2', 'https://lichess.org/training/kFQJm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFQoO', 'Blitz', 'jmartens314', 1547, 'admaha_23', 1544, 'd4,d5,Bf4,Nc6,e3,f6,Bb5,a6,Ba4,b5,Bb3,Bf5,c3,Na5,Bc2,Bxc2,Qxc2,Nc4,b3,e5,Bg3,Nd6,Nf3,e4,Nfd2,f5,Qd1,Nf6,c4,c6,cxd5,cxd5,Nc3,Be7,O-O,O-O,f3,Rc8,Rc1,Qa5,Ne2,Qxa2,fxe4,fxe4,Nf4,Rxc1,Qxc1,Qa5,Ne6,Rc8,Nc5,Ng4,Qe1,Rf8,Bxd6,Bxd6,Ne6,Bxh2+,Kh1,Rxf1+,Qxf1,Bd6,Ng5,Qxd2', 'Qf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/kFQoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KFqXM', 'Rapid', 'Ottimot', 1957, 'Sean777', 1855, 'e4,c6,d4,d5,Nc3,e6,Nf3,b6,Bf4,Ne7,Bd3,Ng6,Bg3,Be7,exd5,cxd5,O-O,O-O,Ne5,Bb7,f4,Nxe5,fxe5,Nc6,Rf4,Bg5,Bxh7+,Kxh7,Qh5+,Bh6,Bh4,Qd7,Bg5,Ne7,Bxh6,gxh6,Rxf7+,Rxf7,Qxf7+,Kh8,Rf1,Qe8,Qf6+,Kh7,Qxe6,Kg7,Rf3,Ba6,Rg3+,Ng6,Qf6+,Kh7,Nxd5,Rc8,Ne7,Rxc2,Rxg6', 'Rc1+,Kf2,Rf1+', 'https://lichess.org/training/KFqXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFroV', 'Rapid', 'julianbarba', 1763, 'maillon', 1805, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nc3,Nf6,Bg5,Be7,Nd5,O-O,Nxe7+,Nxe7,Bd3,Ne8,Qd2,f6,Bh4,Ng6,g3,c5,Nf3,Bg4,Be2,Bxf3,Bxf3,Ne5,Be2,g5,Bxg5,fxg5,O-O-O,Qf6,f4,Nc6,fxg5,Qf7,Rhf1,Qxa2,Rxf8+,Kxf8,Qf4+,Qf7,Qe3,Ne5', 'Rf1,Qxf1+,Bxf1', 'https://lichess.org/training/kFroV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFtp5', 'Rapid', 'GrandButNotMaster', 1993, 'IanTe77', 1982, 'e4,e5,Nf3,d6,Bc4,Be6,Qe2,Bxc4,Qxc4,Nc6,Nc3,Nh6,d4,exd4,Nxd4,Nxd4,Qxd4,Ng8,O-O,Qf6,Qa4+,c6,Nd5,Qd8,f4,Qd7', 'Nb6,Qd8,Nxa8', 'https://lichess.org/training/kFtp5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kfU0v', 'Blitz', 'RedAP', 1833, 'carlitron3', 1907, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,cxd5,exd5,e3,Be7,Bd3,O-O,f4,b6,Nf3,Bg4,h3,Bh5,g4,Bg6,f5,Ne4,Bxe7,Qxe7,Bxe4,dxe4,Ne5,Qh4+,Kd2,f6,fxg6,fxe5,gxh7+,Qxh7,Qb3+,Kh8,Raf1,exd4,exd4,Nd7,Qe6,Nf6,Rf5,e3+,Ke2,Nxg4,Rxf8+,Rxf8,Qxg4,Qc2+,Kxe3,Qf2+,Kd3,Rf3+,Kc4,Re3,Rg1,Qf7+,Kb4,a5+,Ka4', 'Qc4+,Ka3,Qb4#', 'https://lichess.org/training/kfU0v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KfuDH', 'Blitz', 'CodinomeBeijaFlor', 2035, 'Bringbuff', 2050, 'd4,d5,Bf4,Nf6,Nf3,c6,e3,Bg4,Nbd2,e6,Bd3,Bxf3,Nxf3,Be7,c3,Nbd7,O-O,Qb6,Qb3,Qxb3,axb3,O-O,b4,a6,Ne5,Nxe5,Bxe5,Nd7,Bc7,Bd8,Bd6,Re8,b5,a5,bxc6,bxc6,Ra4,Nb6,Ra3,Be7,Bxe7,Rxe7,Rfa1,Rea7,b4,a4,b5,cxb5,Bxb5,Kf8,f3,Ke7,Kf2,Kd6,Ke2,f6,Kd3,e5,e4,exd4,cxd4,g6,Rc1,Rc7', 'e5+,fxe5,dxe5+,Kxe5,Rxc7', 'https://lichess.org/training/KfuDH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kfut6', 'Rapid', 'Adhie_widianto', 1922, 'Andysilly', 2008, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,h6,b4,Bxb4,c3,Be7,d4,exd4,cxd4,d6,Re1,Bg4,Qb3,Bxf3,Bxf7+,Kf8,gxf3,Nxd4,Qd5,Nxf3+,Kh1,Nxe1,Bb2,Nf6,Qe6,Nc2,Bg6,Qe8,Bxe8,Rxe8,Nd2,Nxa1,Bxa1,Nh7,Nf3,Ng5,Qf5+,Kg8,Nd4,Bf6,Qg6,Rxe4,f4,Re1+,Kg2,Rxa1,Nf5,Rxa2+,Kf1,Ra1+,Ke2,Nf7,Ne3,c6,Ng4,Bd4,f5,Ne5', 'Nf6+,Kf8,Qe8#', 'https://lichess.org/training/Kfut6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFV4I', 'Rapid', 'ponomariov_10', 2069, 'Tukenbaev', 1765, 'd4,d5,e3,Nf6,Bd3,Bg4,f3,Bh5,Nc3,e6,Nge2,Bb4,Bd2,O-O,Ng3,c5,Nxh5,Nxh5,O-O,c4,Be2,Nf6,a3,Ba5,Be1,Bc7,e4,e5,dxe5,Bxe5,exd5,Qd6,g3,Rd8,Bxc4', 'Qc5+,Bf2,Qxc4', 'https://lichess.org/training/kFV4I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KfwhK', 'Rapid', 'fraez', 1708, 'Antti_Ihalainen', 1679, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Nc6,c3,Bd6,Bg3,Bxg3,hxg3,Qd6,Qb5,O-O-O,Nbd2,Ng4,Nb3,e5,Ng5,Qg6', 'Nc5,Na5,Qxa5', 'https://lichess.org/training/KfwhK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KFWPb', 'Rapid', 'herkenstein', 1732, 'dheitkam', 1685, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Be2,cxd4,cxd4,Nge7,g4,h5,Rg1,hxg4,Rxg4,Nf5,a3,Be7,b4,Bd7,Nc3,Rc8,Na4,Qd8,Nc5,b6,Nxd7,Qxd7,b5,Na5,a4,Qc7,Bd3', 'Qc3+,Bd2,Qxd3', 'https://lichess.org/training/KFWPb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KFXDb', 'Rapid', 'AndriyGolubka', 1603, 'EdvinKottes', 1603, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,a6,a4,Bg4,h3,Bh5,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/KFXDb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kfXkr', 'Rapid', 'tinnunculus', 1794, 'mateus999', 1927, 'e4,Nc6,Bb5,a6,Ba4,Nf6,d3,e5,Ne2,Bc5,O-O,O-O,Bg5,h6,Bh4,g5,Bg3,d6,Nd2,Nh5,Bb3,Be6,c4,Nd4', 'Nxd4,Nxg3,Nxe6,fxe6,hxg3', 'https://lichess.org/training/kfXkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KfxWZ', 'Rapid', 'fabiosilva71', 1607, 'Djoradjon', 1692, 'e4,e5,Nf3,Nc6,Nc3,h6,Bb5,Nge7,O-O,a6,Ba4,b5,Bb3,Na5,Nxe5,Nxb3,axb3,Bb7,b4,d6,Nf3,Ng6,d4,Be7,d5,O-O,Be3,Bf6,Bd4,Nf4,Qd2,Bxd4,Nxd4', 'Qg5,Qxf4,Qxf4', 'https://lichess.org/training/KfxWZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KFy9r', 'Rapid', 'CokeVoAYCE', 1796, 'Haris1983', 1783, 'e3,d5,b3,c5,Bb2,Nc6,Be2,e5,Nf3,Bd6,c4,Nf6,cxd5,Nxd5,Bc4,Be6,Bb5,O-O,Bxc6,bxc6,Nxe5,Qc7,Nf3,Bg4,h3,Bxf3,Qxf3,Nb4,Na3', 'Nd3+,Ke2,Nxb2', 'https://lichess.org/training/KFy9r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KFYb0', 'Classical', 'axnunezc', 1731, 'Silvynos', 1775, 'd4,e6,Bf4,f5,Nf3,c6,e3,Nf6,Bd3,d5,Nbd2,Nh5,Bg5,Nf6,c4,Be7,cxd5,exd5,O-O,O-O,Ne5,Ne4,Bxe7,Qxe7,a3,Nd7,Nxd7,Bxd7,Rc1,f4,Nxe4,dxe4,Bc4+,Kh8,exf4,Rxf4,Re1,Qf6,Rc2,Rf8,Rf1,Bg4,Qd2,Bf3,gxf3,exf3,Kh1,Rh4,Rg1', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/KFYb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kFYHu', 'Rapid', 'gheh19', 2030, 'sanchi_j_shah321', 2011, 'd4,d5,Nf3,c6,Bf4,Nf6,e3,e6,h3,Bd6,Bxd6,Qxd6,Nbd2,O-O,Bd3,Nbd7,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,c3,Bd7,Nf3,Qe7,Re1,Ne4,Qc2,f5,c4,Rac8,cxd5,cxd5,Qb3,Be6,Nd4,Kh8,Rac1,Rcd8,Nxe6,Qxe6,Qxb7,Rb8,Qxa7,Rxb2,Bxe4,fxe4,Rf1,Qf5,Qa3,Rxf2', 'Qxf8+,Qxf8,Rxf2', 'https://lichess.org/training/kFYHu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KfYMK', 'Blitz', 'bregman90', 1509, 'lakirobi19840820', 1506, 'e4,c5,c4,Nc6,Nc3,e6,Nf3,Be7,d4,cxd4,Nxd4,Nf6,Bf4,O-O,e5,Ne8,Qd3,d6,exd6,Bxd6,Be3,Nf6,O-O-O,Ne5,Qc2,b6,f4,Ned7,Bd3,Bb7,Rhg1,Nc5,g4,Nxd3+,Qxd3,Qc7,Rdf1,Nd7,g5,g6,h4,e5,fxe5,Bxe5,Ne4,Bxe4,Qxe4,Qxc4+,Kb1,Bxd4,Bxd4,Rfe8,Qf3,Rf8,Bf6,Rac8,Rc1,Qe6,Rxc8,Rxc8,h5,Nxf6,gxf6,Qc4,hxg6', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/KfYMK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KfYUq', 'Rapid', 'nehdi', 1676, 'sacha-ek1', 1683, 'e4,c5,Nf3,d6,Bc4,e6,d3,a6,Bg5,Nf6,h3,h6,Bf4,Nc6,a3,b5,Ba2,Bb7,Nc3,Nd4,Nxd4,cxd4,Ne2,Be7,Nxd4', 'e5,Nf5,exf4', 'https://lichess.org/training/KfYUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kfzeD', 'Rapid', 'Hanna00', 2048, 'DeadWater', 2050, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bg5,O-O,Nf3,c5,d5,e6,Bd3,exd5,cxd5,Bg4,h3,Bxf3,Qxf3,h6,Bh4,g5,Bg3,Nbd7,Bxd6,Re8,Bg3,Nb6,O-O,Nfd7,Nb5,Ne5,Qd1,a6,Nc3,Qd7,Rc1,Nc8,Bc2,Nd6,Na4,Qc7,Bb3,b6,Re1,c4,Bc2,b5,Nc3,Rad8,b3,Re7,bxc4,Ndxc4,Bxe5,Qxe5,Bb3,Rc8,Qf3', 'Nd2,Qd1,Nxb3,axb3,Rxc3,Rxc3,Qxc3', 'https://lichess.org/training/kfzeD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KG0nf', 'Blitz', 'dave543t', 2305, 'Anschet', 2103, 'e4,c5,Nc3,Nc6,Bb5,Nd4,Bc4,e6,Nge2,d6,O-O,Nf6,f4,Be7,d3,O-O,Be3,d5,exd5,exd5,Bb3,Bg4,Bxd4,cxd4,Nb1,Bc5,Nd2,Re8,Nf3,Re3,Qd2,Qe7,Rae1,Re8,Ne5,Bxe2,Rxe2,Ng4,Bxd5,Qh4,h3,Nxe5,fxe5,R8xe5,Bxf7+,Kh8,Ref2,Rg5,Bb3,h6,Kh1', 'Rxh3+,gxh3,Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/KG0nf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kg0Nk', 'Blitz', 'matjez', 2422, 'IM Hans_im_Glueck', 2452, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,dxc4,e4,Bb4,Qc2,b5,a4,c6,Bg5,h6,Bxf6,Qxf6,e5,Qe7,Nd2,Nd7,axb5,Bxc3,bxc3,cxb5,Ne4,O-O,Nd6,f6,Qe4,Rb8,Rxa7,Nc5', 'Rxe7,Nxe4,Nxe4', 'https://lichess.org/training/Kg0Nk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KG3GR', 'Rapid', 'besyo', 1704, 'Gambitmat86', 1817, 'e4,e5,Nf3,Nc6,d3,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Be2,Bb4+,c3,Be7,O-O,O-O,Qc2,Bf5,Qd2,Rad8,Rd1,e4,Ne1,exd3,Nxd3,h6,Qe3,Bg5,Qg3,Bxc1,Raxc1,Qe6,Bf3,Rxd3,Rxd3,Bxd3,Bxc6,bxc6,Qxd3,Qxa2,h3,Qxb2,Rb1,Qa2,Rb7,Re8,Rxc7,Re2', 'Rc8+,Re8,Rxe8#', 'https://lichess.org/training/KG3GR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kg6r0', 'Blitz', 'Vivek_sharma_m11', 1858, 'FM tolichach', 2066, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Be2,O-O,O-O,d6,Kh1,a6,f4,Qc7,f5,Ne5,fxg6,hxg6,Qd2,Neg4,Bg1,d5,h3,Ne5,exd5,Nc4,Bxc4,Qxc4,b3,Qc7,Rad1,Bd7,Rfe1,Rfe8,Ne4,Nxd5,Nf3,Bc6,c4,Nf6,Neg5,Rad8,Qf2,Rxd1,Rxd1,Rd8,Re1,e6,Qa7,Qg3', 'Bh2,Qxe1+,Nxe1', 'https://lichess.org/training/kg6r0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kg7Ee', 'Rapid', 'BobC', 2004, 'AV_95', 1994, 'Nf3,d5,g3,c5,Bg2,Nc6,O-O,Nf6,d3,e6,Nbd2,Bd6,e4,O-O,Qe2,Qc7,Nh4,b6,Re1,d4,f4,e5,Nc4,Bg4,Nf3,Rfe8,h3,Be6,Nxd6,Qxd6,fxe5,Nxe5,Nxe5,Qxe5,Bf4,Qh5,e5,Qxe2,Rxe2,Nd5,Rae1,Rad8,a3,h6,Kh2,Nxf4,gxf4,g6,Be4,Bd5,Kg3,Bxe4,Rxe4,Rd7,e6,Rde7,exf7+,Kxf7,Kf3,Rxe4,Rxe4,Rxe4,Kxe4,Ke6,h4,a6,c3,dxc3,bxc3,b5,d4,c4,d5+,Kd6,Kd4,a5,Ke4,h5,Kd4,a4,Ke4,Kd7,Kd4,Kd6,Ke4,Kd7,Ke5', 'b4,cxb4,c3', 'https://lichess.org/training/kg7Ee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kg8VH', 'Classical', 'victorcho', 1997, 'Mar001', 1918, 'e4,c6,d4,d5,e5,Bf5,Nf3,f6,Nh4,Bg6,e6,Qd6,Qe2,f5,g3,Nf6,Bf4,Qb4+,c3,Qb6,Bh3,Na6,Bxf5,Bxf5,Nxf5,g6,Nh4,Nc7,g4,O-O-O,b4,c5,Bxc7,Qxc7,bxc5,Qa5,O-O,Bg7,a4,Ne4,Ra3,Qa6,Qb2,Qxe6,f3,Ng5,Qd2,Qf6,Rb3,Nh3+,Kg2,Qxh4,Na3,Ng5,Nb5,h5,Qf4,Rd7', 'Nxa7+,Kd8,Qb8#', 'https://lichess.org/training/kg8VH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kGAd4', 'Blitz', 'Bharath_Srilal', 2060, 'IM Mc_Facker', 2519, 'd4,d5,Nf3,Nf6,Bf4,c5,e3,Nc6,c3,e6,Nbd2,Bd6,Bg3,O-O,Bd3,Qe7,Bxd6,Qxd6,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qe7,h3,b6,Re1,Bb7,c4,dxc4,Bxc4,Rad8,Qe2,Ne4,Bd3,h6,Bxe4,Qxe4,Rad1,Qa4,b3,Qa3,Ne5,Rfe8,Nc4,Qa6,Qc2,Rxd1,Rxd1,Be4,Qd2,Bc6,a4,Qb7', 'Nd6,Qe7,Nxe8', 'https://lichess.org/training/kGAd4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kgaMj', 'Classical', 'Enter_the_Maze', 1706, 'Adolfiu', 1758, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,c3,O-O,d4,exd4,cxd4,Bb4,a3,Ba5,b4,Bb6,d5,Ne7,Nc3,d6,h3,c5,dxc6,bxc6,Qb3,d5,exd5,cxd5,Be2,d4,Na4,Be6,Bc4,Bxc4,Qxc4,d3,Rd1,Rc8,Qb5,Ne4,Be3,Bxe3,Rxd3,Qc7,fxe3,Ng3,Nc5,Nef5,Rd7,Qb6,Qd3,Rfd8,Rd1,Rxd7,Qxd7,Rf8,Kh2,Qg6,e4,Ne3,Rd6', 'Ngf1+,Kg1,Qxg2#', 'https://lichess.org/training/kgaMj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KGB9N', 'Rapid', 'junior105010', 1956, 'Balder98', 1980, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,Be3,b5,Qd2,Bb7,f3,Be7,a3,Nbd7,O-O-O,Ne5,g4,Rc8,Kb1,Nc4,Bxc4,Rxc4,g5,Nd7,h4,Ne5,Rhf1,Qc7,f4,Ng4,Bg1,h5,f5,e5,Nb3,Bxe4,Nxe4,Rxe4,Qd5,Rc4,c3,Qc6,Qd2,O-O,Na5,Qe4+,Ka2,Rc7,Bb6,Rcc8,Rde1,Qa8,f6,gxf6', 'gxf6,Bxf6,Rxf6,Nxf6,Qg5+', 'https://lichess.org/training/KGB9N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KGbuo', 'Rapid', 'kaybeden', 1689, 'winorlost28', 1942, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,e5,Ne8,Nf3,d6,Bf4,c5,Nd5,e6,exd6,exd5,dxc5,Bxb2,Bh6,Bg7,Bxg7,Nxg7,cxd5,Qa5+,Qd2,Qxc5,Be2,Qxd6,O-O,Bf5,Nd4,Nd7,Nb5,Qb6,Rab1,Bxb1,Rxb1,a6,Nc3,Qa7,Bg4,f5,Bf3,Ne5,Bd1,Rfd8,d6,Qc5,Bb3+,Kh8,Rd1,Rac8,Na4,Qa7,Qb2,Nd7,h3,b5,Nc3,Qc5,Ne2,Ne5,Rd5,Qb6,Rxe5,Qxd6,Re6,Qd2', 'Re8+,Rxe8,Qxd2', 'https://lichess.org/training/KGbuo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KgcHJ', 'Rapid', 'prinz1001', 2216, 'ErdemKabuk', 2112, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,g3,a6,Bg2,h5,h3,h4,g4,Bc5,Nde2,Nge7,Bf4,e5,Bh2,d6,O-O,Be6,Nd5,Bxd5,exd5,Nd4,Nxd4,Bxd4,c3,Ba7,Kh1,g5,Be4,Ng6,Bxg6,fxg6,Qd3,Kf7,Rae1,Kg7,Re4,Rhf8,Qe2,Kh6,f4,gxf4,g5+,Kg7,Rfxf4,exf4,Re7+,Qxe7,Qxe7+,Kg8,Qxd6,Rae8,Qxg6+,Kh8,Qh5+,Kg8,Qxh4,f3,g6,Kg7,Qh7+,Kf6,g7', 'Re1+,Bg1,Rxg1+', 'https://lichess.org/training/KgcHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kgcxy', 'Blitz', 'Krusssty', 1568, 'kolupaevda', 1871, 'd4,Nf6,c4,g6,Nc3,d6,e3,Bg7,Be2,c5,d5,e6,e4,O-O,Bg5,exd5,cxd5,Re8,Qc2,Qa5,Bxf6,Bxf6,Nf3,Bxc3+,bxc3,Bg4,O-O,Nd7,h3,Bxf3,Bxf3,b5,Rfb1,a6,Bg4,Ne5,Be2,c4,a4,Qb6,axb5,axb5,Rxa8,Rxa8,Rb4,Nd7,Bxc4,Ra1+,Rb1', 'Rxb1+,Qxb1,bxc4,Qxb6,Nxb6', 'https://lichess.org/training/kgcxy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kge7I', 'Blitz', 'oscarformosa', 2056, 'IM VadimCernov', 2487, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,Bb4,Nxc6,bxc6,f3,d5,Bd2,O-O,e5,Nd7,f4,Qh4+,g3,Qe7,Bd3,Bc5,Qh5,g6,Qh6,Re8,O-O-O,a5,h4,Qf8,Qg5,h5,g4', 'Be7,gxh5,Bxg5', 'https://lichess.org/training/kge7I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kGEpa', 'Rapid', 'kadirAY1973', 1728, 'Ghasemshokri51', 1790, 'e4,e5,f4,exf4,Nf3,Be7,Nc3,d6,Be2,Bh4+,Kf1,c6,d4,Bg4,Bxf4,Bxf3,Bxf3,g5,Be3,Qf6,Ke2,h5,g3,g4,e5,Qxf3+,Kd3,Qxd1+,Raxd1,Be7,exd6,Bxd6,Rde1,Ne7,Ne4,Bb4,Bd2,Bxd2,Kxd2,a6,Rhf1,f5,Nd6+,Kd7,Nxb7,Rf8,Nc5+,Kd6', 'Re6+,Kc7,Rxe7+', 'https://lichess.org/training/kGEpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kgfmC', 'Classical', 'bobobobo123456', 1751, 'Georgy03062006', 1792, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,c5,Bb5+,Bd7,Qe2,a6,Bxd7+,Qxd7,O-O,Nc6,c3,Be7,d4,cxd4,cxd4,Nf6,Rd1,Nxe4,Qxe4,Bf6,Be3,Rd8,g4,O-O,g5,Be7,a3,g6,Rd2,Rfe8,Rad1,Bf8,Ne5,Qc7,Nf3,Bg7,Qg4,Rd5,h4,Red8,Kg2,Ne7,h5,Nf5,Bf4,Qb6,h6,Bxd4,Nxd4,Rxd4,Rxd4,Rxd4,Rxd4,Qxd4,Kh3,Qxf2,Bg3,Qxg3+,Qxg3,Nxg3,Kxg3,Kf8,Kf4,Ke7,Ke5,a5,a4,b6,b3,Kd7,Kf6,Kd6,Kxf7,e5,Kg7,e4,Kxh7,e3,Kxg6,e2,h7,e1=Q,h8=Q,Qe4+,Kh6', 'Qh4+,Kg7,Qxg5+', 'https://lichess.org/training/kgfmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KgfNJ', 'Classical', 'ipicaso', 1835, 'al87', 1785, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,Bxc3+,bxc3,h6,e3,Nf6,Ba3,Ne4,Qc2,c6,Bd3,Qa5,Bb4,Qc7,Bxe4,dxe4,Qxe4,a5,Ba3,Nd7,O-O,c5,d5,O-O,Rfd1,Nf6,Qc2,Ng4,h3,Nf6,e4,exd5,cxd5,b5,Rab1,b4,cxb4,axb4,Bxb4,Bd7,Bxc5,Ba4,Rb3,Bxb3,axb3,Rfc8,b4,Rab8,Qa4,Nxe4,Rc1,Ra8,Qc2,Nxc5,bxc5,Ra5,c6,Rxd5,Qc4,Rd6,Ne5,Re6,f4,Qb6+,Kh1,Qc7,Qd5,Rd8,Qc5,Rdd6,Rc4,f6,Ng6,Kf7,Qh5,Kg8,Qg4,Rxc6', 'Qxe6+,Rxe6,Rxc7', 'https://lichess.org/training/KgfNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KGGbV', 'Rapid', 'JiaBao2008', 1810, 'jpvs', 1819, 'e4,e6,d4,c5,d5,e5,c4,d6,Nc3,a6,g3,Bd7,f4,f6,f5,Ne7,g4,b5,cxb5,axb5,Bxb5,Bxb5,Nxb5,Na6,Nf3,Nb4,Nc3,c4,g5,Nd3+,Ke2,Nxc1+,Qxc1,Qb6,h4,Rb8,Rb1,Qa5,h5,Kd7,h6,fxg5,Qxg5,gxh6,Qf6,Rg8,Rh2,Bg7,Qe6+,Ke8,Qxd6,Rb6,Qc7', 'Rxb2+,Rxb2,Qxc7', 'https://lichess.org/training/KGGbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KGguA', 'Rapid', 'thebird', 1691, 'nwillows81', 1791, 'd4,Nf6,Nf3,d5,c4,dxc4,Nc3,a6,a4,e6,Bd2,Be7,e3,O-O,Bxc4,c5,O-O,cxd4,Nxd4,Qc7,b3,Nbd7,Rc1,Bd6,g3,Nb6,Bd3,Qe7,Qc2,Nbd7,Ne4,Ne5,Nxf6+,Qxf6,Bxh7+,Kh8,Be4,Qh6,Bf3,Nxf3+,Nxf3,Bd7,Qd3,Bc6,Nd4,Bd5,e4,Qg6,Rc3,Bxe4,Qe3,f5,f3,f4', 'Qxe4,Qxe4,fxe4', 'https://lichess.org/training/KGguA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KGhgq', 'Rapid', 'Leybi_aguilo', 1735, 'taaghols', 1727, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,e6,O-O,Be7,Re1,a6,b3,b5,Bf1,O-O,Bb2,Bb7,d4,cxd4,Nxd4,Nc6,g3,Nxd4,Qxd4,d5,Bg2,dxe4,Qxd8,Rfxd8,Nxe4,Nxe4,Bxe4,Bxe4,Rxe4,f5,Re2,Kf7,Kf1,Bf6,Bxf6,Kxf6,Ke1,Rd6,Rc1,Rad8,c4,bxc4,bxc4,Rd4,c5,Rc8,Rd2,Rxd2,Kxd2,Ke5,Kc3,Rc6,Kb4,Kd5,Rc3,a5+,Kb5,e5,f3,e4,f4,e3', 'Rd3+,Ke4,Rxe3+,Kxe3,Kxc6', 'https://lichess.org/training/KGhgq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KgJxB', 'Rapid', 'Pompermaier', 1738, 'Olegsevmor', 1671, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Qf3,Nf6,d3,g6,Bd2,Bg7,Ne4,Qb6,Bc3,O-O,Nxf6+,exf6,Nh3,Re8+,Be2,Nd7,O-O,Ne5,Bxe5,fxe5,Ng5,Be6,Ne4,Qxb2,Nf6+,Bxf6,Qxf6,Qxc2,Bf3,c6,Be4,Rad8,h4,Bd5,h5,Bxe4,h6,Kf8,dxe4,Qxe4,Qg7+,Ke7,Qxh7,Rh8,Qg7,Rdg8,Rfe1,Qf4,Rxe5+,Kd6', 'Rd1+,Kc7,Re7+', 'https://lichess.org/training/KgJxB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KgKJi', 'Blitz', 'LARC310800', 1856, 'o_aektzhs', 1700, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,Nf3,O-O,e3,Nbd7,cxd5,exd5,Bd3,c6,O-O,h6,Bh4,Nb6,Ne5,Nbd7,f4,Nxe5,fxe5,Nd7,Bxe7,Qxe7,Qc2,Qg5,Rf3,Nb6,Rg3,Qe7,Rf1,Be6,Rf4,Rac8,Rf6,Kh8,Rf4,c5,Nb5,c4,Bh7,a6,Nd6,Rcd8,Qb1,Nd7,Bc2,b5,Qe1,Nb6,Qe2,Nc8,Qh5,Nxd6,exd6,Qxd6,Rh4,Bc8,Qf3,Rde8,Rgh3,Qg6,Qf4,Qxc2', 'Rxh6+,gxh6,Qxh6+,Qh7,Qxh7#', 'https://lichess.org/training/KgKJi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KglKA', 'Blitz', 'uhudler', 1687, 'Roger_Chapman', 1654, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nc3,Be7,Bb5,Bd7,Nxc6,bxc6,Bd3,Nf6,Be3,O-O,O-O,Re8,Ne2,Bg4,f3,Be6,Ng3,Rb8,b3,Qd7,c4,h6,Qc2,Kh8,Rfe1,Ng8,Rad1,Qc8,Nh5,Nf6,Ng3,Ng8,Bd4,Bh4,Bf2,Bxg3,Bxg3,Nf6,e5,dxe5,Bxe5,Nd7,Bc3,Nc5,Re5,Nxd3,Rxd3,Bf5,Rxe8+,Qxe8,Qd2,Bxd3', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/KglKA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kglYR', 'Classical', 'victorformula100', 1829, 'Ghasemshokri51', 1817, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Qf3,c6,Nc3,Be6,Ne4,Bc5,Nxc5,O-O,Nxb7,Qb6,Nd6,Qb4+,c3,Qxd6,Ne2,Nd7,Ng3,N5b6,Bb3,Nc5,Ne4,Qxd3', 'Nxc5,Qxf3,gxf3', 'https://lichess.org/training/kglYR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KGmeq', 'Rapid', 'amirhossi2009', 1803, 'TALIH17', 1720, 'e4,Nf6,e5,Nd5,Nc3,Nxc3,bxc3,Nc6,d4,d6,Bf4,Bf5,Bd3,Bxd3,cxd3,e6,Nf3,Be7,O-O,h6,c4,O-O,Re1,Re8,Rc1,dxe5,dxe5,Nd4,Re4,Bc5,Be3,Nxf3+,Qxf3,Qxd3', 'Bxc5,Qxf3,gxf3', 'https://lichess.org/training/KGmeq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kgMTM', 'Blitz', 'elmasry_n', 1888, 'dorfys', 1868, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Be3,Nc6,Nc3,Bg4,h3,Bh5,g4,Bg6,g5,Nd7,Nd5,Qd8,Nxc7+,Qxc7,Bb6+,Be7,Bxc7,O-O,O-O-O,a5,Qe3,Rfc8,Bb6,Nb4,Rd2,Nxa2+,Kb1,Nb4,Qxe7,Nxb6,Qxb7,Rab8,Qe7,Na4,Qxd6,Nd5,Qxd5,Nc3+,Ka1,Nxd5,h4,Rb4,Bh3', 'Ra4+,Kb1,Nc3+,bxc3,Rb8+,Kc1,Ra1#', 'https://lichess.org/training/kgMTM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kgndV', 'Blitz', 'batolsai', 2224, 'CM RobertoRochaMAO', 2199, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Nc3,d6,Qd2,Bd7,O-O-O,Nf6,f3,O-O,Bc4,a6,Bb3,Na5,h4,Nxb3+,cxb3,h5,Kb1,a5,g4,a4,bxa4,Bxa4,Rdg1,Qa5,gxh5,Nxh5,Rg5,Qa6,Rxh5,gxh5,Rg1,Kh7,Nf5,Bf6,Bd4,Rg8', 'Qh6#', 'https://lichess.org/training/kgndV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kgNSr', 'Rapid', 'AVENTINO', 1822, 'rednus', 1775, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,d6,Be3,g6,Nbd2,Bg7,O-O,O-O,h3,a6,d4,exd4,cxd4,Re8,d5,Ne5,Nxe5,Rxe5,Bd4,Re8,Bd3,c6,dxc6,bxc6,Rb1,c5,Bc3,Bb7,f3,Qc7,Re1,Nh5,Bxg7,Nxg7,Bc4,Ne6,Bxe6,Rxe6,Nf1,Rae8,b3,Qa5,Qc2,d5,Nd2,dxe4,fxe4,Qb4,a3,Qxa3,Nc4,Qb4,e5,Bd5,Nd6,Rxd6,exd6,Rxe1+,Rxe1,Qxe1+,Kh2,Qe4', 'Qxe4,Bxe4,d7', 'https://lichess.org/training/kgNSr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KgOo8', 'Blitz', 'logancdv', 1951, 'CM j_coca', 2232, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nd7,d3,O-O-O,Be3,h5,Qd2,e5,h3,Be6,Ng5,Qxg2', 'Bf3,Qxf3,Nxf3', 'https://lichess.org/training/KgOo8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kgpxx', 'Classical', 'Harrowgate95', 1838, 'DanielleMohicano', 1805, 'd4,d5,Nf3,c6,c3,Nf6,Bf4,Bf5,e3,e6,Nbd2,Bd6,Bxd6,Qxd6,Be2,Nbd7,h3,h6,a3,e5,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qc7,Bd3,Be4,Bxe4,Nxe4,Nd2,O-O-O,Nxe4,dxe4,Qg4+,Kb8,Qxe4,Qd7,O-O,Rhe8,Qc2,Qd2,Rac1,Rd3,Qd1,Red8,Qxd2,Rxd2,Rb1,Rc2,Rfd1,Rdd2,Rxd2,Rxd2,Kf1,Kc7,Ke1,Rc2,g3,c5,f4,b5,Kd1,Rg2,g4,Rg3,Kc2,Rxe3,h4,c4,Rd1,Re4,Rd4,Re2+,Rd2,Rxd2+,Kxd2,Kd6,Ke3,g6,Ke4,f6,g5,f5+', 'Kd4,hxg5,hxg5', 'https://lichess.org/training/Kgpxx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KGPZ2', 'Rapid', 'Majidjun', 1685, 'xAKEP228', 1690, 'e4,c6,d4,d5,e5,c5,Nf3,Nc6,c3,Qa5,Bd2,Bg4,Qb3,Bxf3', 'Qxb7,Rb8,Qxc6+', 'https://lichess.org/training/KGPZ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kgRJQ', 'Classical', 'sayeemfarabi', 1692, 'faisalanandnezh', 1822, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,Nge7,cxd4,O-O,Ng5,h6,Nf3,d5,exd5,Nxd5,Ne5,Nxe5,dxe5,Be6,Bb2,c6,Qf3,Qd7,Rd1,Rad8,Nc3,Bxc3,Bxc3,Bg4,Qg3,Bxd1,Rxd1,Nxc3', 'Rxd7,Rxd7,Qxc3,Rd1+,Bf1', 'https://lichess.org/training/kgRJQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kGRnG', 'Rapid', 'misiek32', 1856, 'nerja25390', 2000, 'e3,d5,Nc3,c5,Qe2,Nf6,b3,Nc6,Bb2,Bg4,f3,Bh5,O-O-O,e5,h4,e4,Qb5,exf3,gxf3,Qb6,Qd3,Bg6,Qe2,Be7,f4,Bh5,Nf3,d4,Na4,Qd8,Qg2,b5,Bxb5,Qc7,Be2,Nb4,a3,Nbd5,Ne5,Bg6,h5,Be4,Qxg7,O-O-O,Rhg1,Rdg8,Qxf7,Rf8,Qg7,Rfg8,Qh6', 'Bf8,Qg5,Rxg5', 'https://lichess.org/training/kGRnG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KGslH', 'Blitz', 'Marchindirg', 1892, 'tha2er', 1877, 'd4,Nf6,c4,Nc6,Nc3,e6,a3,d5,c5,b6,cxb6,cxb6,Bg5,Be7,h3,Ba6,b4,Bc4,e3,Bxf1,Kxf1,O-O,Nf3,Rc8,Rc1,Qd7,b5,Na5,a4,Nc4,Ne5,Nxe5,dxe5,Ne8', 'Bxe7,Qxe7,Nxd5,exd5,Rxc8', 'https://lichess.org/training/KGslH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KGSNZ', 'Classical', 'hawgdriver', 1703, 'belgafox', 1722, 'e4,e6,Nc3,d5,d4,Nf6,e5,Nfd7,Nf3,a6,Be2,Be7,O-O,O-O,Be3,c5,Na4,c4,b3,b5,Nc5,Nxc5,dxc5,Nc6,b4,Nxb4,c3,Nc6,a4,Bb7,Nd4,b4,Nxc6,Bxc6,cxb4,Qc7,Qd4,Rfb8,Bd2,f6,f4,fxe5,fxe5,Rf8,Qg4,Qxe5,Bc3,Rxf1+,Rxf1,h5,Qg6,Be8', 'Qxe8+,Rxe8,Bxe5', 'https://lichess.org/training/KGSNZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KGty1', 'Rapid', 'Serg_Abramovich91', 1714, 'Maks197', 1906, 'd4,d5,e3,Nc6,c4,dxc4,Bxc4,e5,d5,Na5,Qa4+,c6,dxc6,Nxc6,Nf3,Bb4+,Bd2,Bxd2+,Nfxd2,a6,Qb3,Qe7,O-O,Nf6,Nc3,b6,Nd5,Nxd5,Bxd5,Bd7,f4,O-O,fxe5,Qxe5,e4,Rab8,Bxf7+,Kh8,Bd5', 'Qd4+,Kh1,Qxd2', 'https://lichess.org/training/KGty1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kguIE', 'Rapid', 'aravind2004', 2015, 'Juleika', 2038, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,h6,Nbd2,d6,O-O,Bg4,Re1,O-O,Nf1,Na5,Bb5,c6,Ba4,b5,Bc2,Bb6,Ng3,Nb7,h3,Be6,a4,a6,Be3,c5,axb5,axb5,d4,exd4,Rxa8,Qxa8,cxd4,cxd4,Nxd4,Bd7,Ndf5,Bxe3,Rxe3,Bxf5,Nxf5,Nc5,Nxd6,Rd8,e5,Ne8,Qc1,Nxd6,exd6,Rxd6,Bh7+,Kxh7,Qxc5,Qb8,Qf5+,Kg8,Re1,Rd2,Qb1,b4,Qc1,Qd8,b3,Rd3,Qc4,Rd4,Qc2,g6,Qc6,Kg7,Re8,Rd1+,Kh2,Qf6', 'Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/kguIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kGuVt', 'Rapid', 'francsc', 1934, 'EliteChessAcademy', 1903, 'd4,d5,Bf4,Nc6,Nf3,Nf6,e3,Bf5,c4,e6,Nc3,Bb4,Ne5,Nxe5,dxe5,Ne4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/kGuVt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kgV1n', 'Blitz', 'menezeslucas', 2045, 'Luzzenn', 2068, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,Bg5,Be6,Nd5,h6,Nxf6+,gxf6,Bh4,Bxc4,dxc4,Qe7,O-O,O-O-O,c3,Rdg8,Kh1,Qe6,Qd3,h5,a4,a5,Qd5,Qg4,Bg3,h4,Nxh4,Rxh4,Qxf7,Qxg3,fxg3', 'Rxh2+,Kxh2,Rh8+,Qh7,Rxh7#', 'https://lichess.org/training/kgV1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KgveY', 'Rapid', 'SuperHornet', 1768, 'akchkhaidze', 1716, 'e4,e6,Nf3,b6,d4,Bb7,Nc3,h6,a3,Nf6,Bd3,Be7,b3,a5,Qe2,d6,Bb2,d5,e5,Nfd7,a4,c5,Nb5,Bc6,O-O,Na6,c3,Nc7,Rfc1,Nxb5,Bxb5,Bxb5,Qxb5,O-O,Rc2,Rc8,Rac1,g5,h3,f6,exf6,Rxf6,Ne5,Nxe5,dxe5,Rf5,Qd3,Qc7,g4,Rxe5,Qg6+,Kf8,Rd2,c4,bxc4,Qxc4,Rd4,Qe2,Rc2,Qf3,Qxh6+,Ke8', 'Qh8+,Kf7,Qxe5', 'https://lichess.org/training/KgveY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KGvqk', 'Classical', 'shwillis', 1546, 'svalji786', 1541, 'd4,d5,Nf3,e6,Bf4,Nd7,c4,dxc4,Nc3,b5,Nxb5,a6,Nxc7+,Ke7,Nxa8,Bb7,Nc7,Bxf3,exf3,Ngf6,Bxc4,Nh5,Bg5+,f6,Nxe6,Qa5+,Bd2,Qf5,Bb4+,Kf7,Nf4+,Ke8,Qe2+,Kd8,Ne6+,Kc8,Bxa6+,Kb8,g4,Bxb4+,Kf1,Nf4,Qe3,Qxe6,Qxf4+,Bd6,Qd2,Bc7,Kg2,Qxa6,Rhe1,Qd6,Kf1,Qa6+,Kg2,Qd6,Kf1,Qa6+,Kg1,Qd6,Rac1,Rc8,Qd3', 'Qxh2+,Kf1,Qh1+,Ke2,Re8+,Qe3,Rxe3+', 'https://lichess.org/training/KGvqk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kGwvu', 'Classical', 'uzkuzk', 2206, 'Aleksandrvk', 2115, 'd4,d5,Nc3,Nf6,Bf4,a6,e3,e6,g4,h6,h3,Bb4,Ne2,Nbd7,Ng3,g5,Be5,Nxe5,dxe5,Bxc3+,bxc3,Nd7,f4,c5,c4,d4,Ne4,Qa5+,c3,dxe3,Qd6,gxf4,Rd1,Qb6', 'Nf6+,Nxf6,Qxb6', 'https://lichess.org/training/kGwvu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kGZAr', 'Classical', 'risc', 1682, 'ismsidi', 1723, 'c4,Nf6,d4,e6,a3,c5,d5,d6,Nc3,Be7,e4,Nbd7,Nf3,Qa5,Bd2,O-O,Nb5,Qd8,Bd3,a6,Nc3,b5,b3,bxc4,bxc4,Nb6,O-O,Ng4,h3,Ne5,Nxe5,dxe5,f4,exd5,exd5,exf4,Bxf4,Bf6,Rc1,Bd4+,Kh1,a5,Qh5,g6,Qf3,Re8,Bh6,Ra7,Ne4,Bf5,Nxc5,Bxd3,Nxd3,Re3,Qd1,Qh4,Bxe3,Bxe3,Qf3,Bxc1,Rxc1,Nxc4,Qe2,Qe7', 'Qxe7,Rxe7,Rxc4', 'https://lichess.org/training/kGZAr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kGZsJ', 'Rapid', 'Miguel_1967', 1945, 'vranjevcan', 1910, 'd4,d5,Nf3,Nf6,Bg5,e6,e3,Nbd7,Bd3,c5,c3,cxd4,exd4,Be7,Nbd2,O-O,O-O,a6,Qc2,b5,Ne5,h6,Bh4,Qc7,Nxd7,Bxd7,a3,Bd6,Bxf6,gxf6,g3,f5,Qd1,Kh7,Qh5,Rg8,Kh1,Be8,Nf3,f6,Bxf5+,exf5,Qxf5+,Bg6,Qxd5,Rae8,Rae1,Rd8,Qe6,f5,Nh4,f4,Nxg6,Rxg6,Qe4,fxg3,hxg3,Qf7,Kg2,h5,Rh1,Kh6,Rh3,Rf8,Qe3+,Rg5,Reh1,Kg6,Qe2,Qd5+,Kg1,Rgf5,Qd3,Kh6,g4,Rg5', 'Rxh5+,Rxh5,Rxh5+,Qxh5,gxh5', 'https://lichess.org/training/kGZsJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KH2GN', 'Rapid', 'olgaassar2', 1944, 'kentt', 1824, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Nc3,Bxf3,gxf3,Qd8,Be2,e6,O-O,Bd6,d3,c6,f4,Qc7,Qd2,Ne7,Ne4,Ng6,Nxd6+,Qxd6,Bh5,Nd7,Re1,O-O-O,b3,Nf6,Bf3,Nd5,Re4,f5,Rd4,c5,Ra4,Kb8,Bb2,Nh4,Bxd5,Qxd5,Be5+,Ka8', 'Rxa7+,Kxa7,Qa5#', 'https://lichess.org/training/KH2GN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kH59V', 'Blitz', 'baladi1349', 1515, 'riyan_KPCC', 1917, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,O-O,h6,d3,d6,c3,dxc3,Nxc3,Be6,Qb3,Bxc4,Qxc4,Qd7,Nd5,O-O-O,Be3,Kb8,Rac1,c6,Qa4,b5,Bxa7+,Qxa7,Qxa7+,Kxa7,Nb4,c5,Nc6+,Kb6,Nxd8,Be7,Nxf7,Rh7,e5,d5,d4,c4,b3,g5,Nxg5,Bxg5,Rc2,Ne7,bxc4,dxc4,f4,Nd5,g3,Be7,f5,Ne3,Rcf2,Nxf1,Rxf1,b4,f6,Bf8,e6,Kc6,e7,Bxe7,fxe7,Rxe7,Rf6+,Kd5,Rxh6,Kxd4,Rh4+,Re4,Rxe4+,Kxe4,Kf2,c3,Ke2,Kd4,g4,Kc4,g5,b3,axb3+,Kxb3,Kd1', 'Kb2,Ke2,c2,g6,c1=Q', 'https://lichess.org/training/kH59V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kH6ON', 'Rapid', 'Coranger45', 2058, 'cezar79', 2093, 'd4,d5,c4,e6,Nc3,c5,Nf3,cxd4,Nxd4,e5,Nf3,d4,Nb5,a6,Na3,Nc6,e3,Bxa3,bxa3,Bg4,Be2,d3,Qxd3,Qxd3,Bxd3,Nf6,Be2,e4,Nd4,Nxd4,exd4,Bxe2,Kxe2,O-O-O,Be3,Ng4,h3,Nxe3,fxe3,f5,Rhf1,g6,Rab1,h5,Rb6,Rhg8,c5,Rg7,Rfb1,Kb8,c6,Rc8,Rxa6,Rcc7,cxb7,Rxb7,Rxb7+,Kxb7,Re6,Kc8,Kf2,Kd7,d5,h4,g3,hxg3+,Kxg3,Re7,Rxe7+,Kxe7,Kf4,Kd6,Kg5,Kxd5,Kxg6', 'f4,exf4,e3', 'https://lichess.org/training/kH6ON');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kH9eW', 'Rapid', 'wjumaa', 2069, 'Alex_60', 2063, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nf6,e5,Nd5,Nf3,Be7,Bd3,O-O,O-O,h6,Re1,a6,Nxd5,Qxd5,Be3,Nc6,Qd2,f5,exf6,Bxf6,Bxh6,gxh6,Qxh6,Bg7,Qh7+,Kf7,Bg6+,Kf6,Ne5,Rh8', 'Ng4+,Ke7,Qxg7+', 'https://lichess.org/training/kH9eW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kha2s', 'Rapid', 'LouisNextTime', 1750, 'BoKnowsChess', 1716, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Be7,e3,O-O,Bd3,h6,O-O,c5,cxd5,exd5,e4,cxd4,Nxd4,dxe4,Bxe4,Nxe4,Nxe4,Bd7,Qf3,Nc6,Nf5,Bb4,Qh5,Bxf5,Qxf5,g6,Qf4,g5,Qf3,Nd4,Qh5,Qb6,Rd1,Rfe8,Be3', 'Rxe4,Bxd4,Rxd4,Rxd4,Qxd4', 'https://lichess.org/training/Kha2s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHaGF', 'Rapid', 'kalistemon', 1802, 'Annbuut', 1763, 'e4,c6,d4,d6,c4,Nf6,Nc3,Bg4,f3,Bc8,Bd3,Nbd7,Nge2,e5,d5,Nc5,Bc2,a5,a4,Be7,O-O,Qb6,Kh1,Qb4,b3,Qb6,Be3,cxd5,Nxd5,Nxd5,cxd5,O-O,Rb1,Qc7,Nc3,Bd7,Qd2,Rac8,Nb5,Bxb5,axb5,Nd7,Rbc1,b6,Bb1,Nc5,b4,Nb3', 'Rxc7,Nxd2,Rxc8,Rxc8,Bxd2', 'https://lichess.org/training/kHaGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KHahs', 'Rapid', 'yst32', 1834, 'neaz', 1871, 'e4,c5,Nc3,d6,Nf3,g6,b3,Bg7,Bb2,Nf6,Bd3,O-O,O-O,a6,a4,Nc6,h3,Bd7,Ne2,Nb4,Ng3,Nxd3,cxd3,b5,d4,Rb8,Rb1,Bc6,d5,Bd7,d4,bxa4,e5,Nxd5,dxc5,Nf4,exd6,Bxb2,Rxb2,exd6,cxd6,axb3,Rxb3,Rxb3,Qxb3,Bb5,Rd1,Ne2+,Kh2,Nxg3,fxg3,Re8,Qd5,Qd7,Ne5,Qf5,Nc6', 'Qxd5,Rxd5,Bxc6', 'https://lichess.org/training/KHahs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KhCNr', 'Classical', 'jhonwickchess', 1828, 'jg777', 2031, 'e4,c6,d4,d5,e5,c5,Nf3,Bg4,c3,Nc6,Be2,e6,O-O,Qb6,dxc5,Bxc5,b4,Be7,Nbd2,a5,bxa5,Rxa5,Nb3,Ra8,Be3,Qc7,Nbd4,Bxf3,Nxf3,Nxe5,Nxe5,Qxe5,Bb5+,Kf8,Bd4,Qg5,f4,Qh6,a4,Bf6,Rf3,Bxd4+,Qxd4,Qf6,Qc5+,Qe7,Qd4,Nf6,Re1,g6,g4,Rg8,g5,Ne4,c4,Qc5', 'Rxe4,Qxd4+,Rxd4', 'https://lichess.org/training/KhCNr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHCW0', 'Rapid', 'TXP456', 1820, 'Ismailbbn', 1836, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,Nf6,Nc3,d6,Be2,Be7,O-O,O-O,Bf4,b6,Bf3,Bb7,Qd2,Re8,Rad1,Qd7,Bxd6,Bxd6,Qxd6,Qxd6,Rxd6,Nxe4,Rd7,Bc6,Rc7,Re6,Bg4,Rg6,Bf3,Re8,Rxc6,Rxc6,Nxe4,Rce6,Nc3,g5,g3,Rd8,Be4,a6,Kg2,b5,Bf3,Rd2,Rc1,b4,Ne4,Rd4,Nxg5,Re5,Nh3,c4,Nf4,Ra5,c3,bxc3,bxc3,Rd2,Re1,Ra4,Re8+,Kg7,Nh5+,Kg6,Rg8+,Kh6,Rg7,Raxa2,Rxf7,Rxf2+,Kh3,Rxh2+,Kg4,Rxh5,Rf6+,Kg7,Rc6,Re5,Rxc4,Re3,Rc7+,Kf6,Rc6+,Ke5,Rc5+,Kd6,Rd5+,Kc7,Rc5+,Kb6,Rc6+,Ka5,Rc5+,Ka4,Kf4,Rd3,Bc6+,Kb3,Be4,Rxc3', 'Bd5+,Kb4,Rxc3', 'https://lichess.org/training/kHCW0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHdIu', 'Rapid', 'erkin-57', 1834, 'Chopstick', 1700, 'e4,e5,Nc3,Nc6,Bc4,d6,Nf3,f5,d3,Nf6,Ng5,d5,exd5,Nd4,d6,Bxd6,Nf7,Qe7,Nxh8,e4,O-O,Ng4,dxe4,Bxh2+,Kh1,Qh4,Bf7+,Kd7,Qxd4+', 'Bd6+,Kg1,Qh2#', 'https://lichess.org/training/kHdIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KheJm', 'Rapid', 'SirMatthew', 1841, 'bert_maclin_FBI', 1847, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Nxc6,bxc6,Bc4,Nf6,Be3,O-O,Qd2,Rb8,O-O-O', 'Nxe4,Nxe4,Bxb2+,Kb1,Bc3+', 'https://lichess.org/training/KheJm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KhF27', 'Rapid', 'rezaamiri66', 2044, 'pacochen', 2041, 'c4,g6,Nc3,Bg7,e4,d6,g3,Nf6,Bg2,c6,Nge2,Bg4,h3,Be6,d3,Qc8,g4,h5,f3,Na6,Be3,Nc7,Qd2,a5,c5,a4,cxd6,exd6,d4,a3,b3,b5,Rc1,Qa6,e5,dxe5,dxe5,Nfd5,f4,hxg4,hxg4,b4,Rxh8+,Bxh8,Ne4,Nxe3,Qxe3,Bxg4,Rxc6,Qa7,Nd6+,Kf8,Qc1,Ne6,Nb5,Qe7,Nc7,Qh4+,Kd2,Bxe2,Nxe6+,fxe6,Qc5+,Kg8,Kxe2,Qxf4,Rxe6,Qg4+', 'Bf3,Qxe6,Bd5', 'https://lichess.org/training/KhF27');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KHH9e', 'Rapid', 'slametrd', 1919, 'TahaN16', 1935, 'd4,d5,Nf3,Nc6,c3,Bg4,Nbd2,Nf6,b3,e6,h3,Bxf3,Nxf3,Be7,Bg5,O-O,Bxf6,Bxf6,e3,a6,Bd3,e5,dxe5,Nxe5,Nxe5,Bxe5,Qc2,Qf6,Bxh7+,Kh8,O-O,g6,f4,Bxc3,Rac1,Ba5,f5,Kxh7,fxg6+,Qxg6,Rf5,Bb6,Re1,Rae8,h4,Re5,Ref1,Bxe3+,Kh1,Rxf5,Rxf5,d4,h5,Qh6', 'Rf6+,Kg7,Rxh6', 'https://lichess.org/training/KHH9e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('khhKD', 'Rapid', 'Roland19', 1708, 'PickleRick22', 1827, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d5,Nf3,Ne4,a3,Bxc3+,bxc3,c5,Bf4,Nc6,e3,Qa5,Bd3,Qxc3+,Qxc3,Nxc3,Rc1,dxc4,Bxc4,Ne4,O-O,cxd4,exd4,O-O,d5,exd5,Bxd5,Bf5,Bxc6,bxc6,Rxc6,Rfc8,Ne5,f6,Rxc8+,Rxc8,Nf3,Rc3,Nd4,Bd7,Rd1,Ba4,Rb1,Rc4,Rb8+,Kf7,Rb7+,Kg6,Ne6,Kf5,Re7,Rc3,g3,Rxa3,Nxg7+,Kg6,Rxe4', 'Ra1+,Kg2,Bc6', 'https://lichess.org/training/khhKD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHIqm', 'Blitz', 'whilem', 1816, 'spachev', 1830, 'd4,Nf6,Bf4,d6,e3,Nbd7,Nd2,e5,dxe5,Nxe5,Nc4,Ng6,Bg3,Ne4,Bd3,Nxg3,hxg3,Be6,Qf3,d5,Bxg6,fxg6,Ne5,Qf6', 'Qxf6,gxf6,Nxg6,hxg6,Rxh8', 'https://lichess.org/training/kHIqm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHj6y', 'Classical', 'NickShumHathaway', 1818, 'alkampone123', 1810, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,d4,c5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,cxd4,Qxd4,Qxd4,Nxd4,O-O-O,Be3,e5,Nb3,b6,a4,Nc5,Nd2,f5,f3,Na6,O-O-O,Bc5,Rhe1,Rhe8,Nc4,Rxd1+,Kxd1,e4', 'Bxc5,Nxc5,Nd6+,Kd7,Nxe8', 'https://lichess.org/training/kHj6y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('khK7G', 'Classical', 'berniii', 1791, 'jsizzle42', 1781, 'd4,d5,Bf4,Nc6,e3,a6,Nf3,Nf6,c4,dxc4,Bxc4,b5,Bd3,Bg4,Nc3,Nd5,Nxd5,Qxd5,Be2,e6,Bxc7,Bb4+,Kf1,O-O,h3,Bh5,Ne5,Nxe5,Bxe5,Bg6,Kg1,f6,Bf3,Qc4,Bxa8,fxe5,Bf3,e4,Bg4,Bf5,Kh2,Bxg4,Qxg4,Rxf2,Rhf1', 'Rxf1,Rxf1,Qxf1', 'https://lichess.org/training/khK7G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KhKnA', 'Rapid', 'luvk', 1713, 'mathioli03', 1776, 'd4,d5,Bf4,Nc6,e3,a6,Nc3,Nf6,Bd3,e6,Nf3,Bb4,h3,h5,O-O,b5,e4,Bxc3,bxc3,dxe4,Be2,exf3,Bxf3,Bb7,Qe2,Nd5,Bh2,Nxc3,Qd3,Nd5,Rad1,Ncb4,Qb3,a5,a4,Bc6,axb5,Bxb5,Rfe1,O-O,Bxh5,Qf6,Be5,Qh4,Bf3,a4,Qb1,Nc3,Qxb4,Nxd1,Bxa8,Qxf2+,Kh2,Ne3,Rg1,c6,Bg3,Nd5', 'Qxf8+,Kxf8,Bxf2', 'https://lichess.org/training/KhKnA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KHKql', 'Rapid', 'cleber_x', 2052, 'Jamildg', 1892, 'e4,g6,d4,Bg7,c3,d6,Bd3,Nf6,Ne2,O-O,O-O,Nc6,f4,Bg4,h3,Bxe2,Qxe2,e5,fxe5,dxe5,d5,Nb8,Bg5,Qd6,Nd2,Nbd7,Nc4,Qc5+,Be3,Qe7,Qf2,b5,Na5,a6,Nc6,Qd6,a4,Nh5,g4,Nf4,Bxf4,exf4,Qxf4,Qxf4,Rxf4,bxa4,Rxa4,Ne5,Nxe5,Bxe5,Rf1,Rab8,Rf2,Rb6,Rxa6,Rxa6,Bxa6,Ra8,Bc4,Kg7,d6,f6,d7,Rd8,Bb5,Kf7,c4,Ke7,c5', 'Bd4,Kg2,Bxf2', 'https://lichess.org/training/KHKql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KHKQW', 'Blitz', 'GM Sailor1951', 2728, 'begadarkman', 2375, 'Nf3,Nf6,g3,g6,b3,Bg7,Bb2,O-O,Bg2,d6,d4,c6,O-O,Qa5,Ne1,Qh5,Nd3,Bh3', 'Nf4,Bxg2,Nxh5', 'https://lichess.org/training/KHKQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHlY7', 'Classical', 'Alan9014', 1821, 'LaskersBishop', 1803, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be6,Be3,Be7,Qd2,O-O,O-O-O,Nc6,Kb1,Rc8,h4,Qc7,g4,Ne8,h5,b5,g5,f5,gxf6,Nxf6,Be2,Kh8,Rdg1,b4,Nd5,Bxd5,exd5,Na5,Bg5,Nxb3,cxb3,a5,Bc4,a4,Qg2,axb3,Bh6,bxa2+,Bxa2,g5,Qxg5,Rg8', 'Bg7+,Rxg7,Qxg7#', 'https://lichess.org/training/kHlY7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHMfY', 'Rapid', 'kiroro', 1884, 'TheRealAndinoKiwi', 1631, 'd4,e5,dxe5,d6,exd6,Bxd6,e3,Nf6,Bd3,Nc6,Nf3,Be6,O-O,Qe7,Bb5,O-O-O,Bxc6', 'Bxh2+,Nxh2,Rxd1', 'https://lichess.org/training/kHMfY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHMtq', 'Classical', 'Comrade_Bazarov', 1842, 'beco2017', 1664, 'e4,g6,d4,Bg7,Nf3,Nc6,Bc4,e6,O-O,Nf6,e5,Nd5,c3,b6,Nbd2,Bb7,Ne4,Na5,Bd3,f6,Nxf6+,Nxf6,Bg5,O-O,exf6,Bxf6,Bh6,Bg7,Bxg7,Bxf3,gxf3,Qg5+,Kh1,Kxg7,Rg1,Qf4,Rg3,Rf7,Qc2,Rf6,Rag1,Qh6,Be4,Raf8,R1g2,d5,Bd3,Rxf3,Rxg6+', 'hxg6,Rxg6+,Qxg6,Bxg6,Rxf2', 'https://lichess.org/training/kHMtq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Khn85', 'Rapid', 'JesusMJacintoM', 1684, 'Juan-Angel', 1696, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,Be3,g6,Nc3,Bg7,Qd2,Ng4,Nf3,Nxe3,Qxe3,O-O,Nd5,Nd7,O-O,Nf6,Nb6', 'Ng4,Qe2,Qxb6', 'https://lichess.org/training/Khn85');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kho8a', 'Classical', 'Fortino', 1713, 'RG131169', 1739, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,Nf3,O-O,e3,h6,Bh4,Nbd7,Be2,c6,O-O,dxc4,Bxc4,Nd5,Bg3,N5b6,Bb3,Nf6,e4,Nh5,Bf4,Nxf4,e5,Nbd5,Bc2,Qa5,g3,Nxc3,bxc3,Nd5,Qd3,g6,c4,Nb4,Qd2,b6,a3,Nxc2,Qxc2,Qa6,Rfd1,Qb7,Nd2,Qc7,Ne4,f5,exf6,Bxf6,Qd2,Kg7,Ra2,Bb7,Qe3,Rae8,Rad2,c5,dxc5,Bxe4', 'Rd7+,Qxd7,Rxd7+,Re7,Rxe7+', 'https://lichess.org/training/Kho8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('khoVL', 'Blitz', 'ardnag', 1711, 'dzana1963', 1840, 'e4,Nf6,Nf3,Nc6,e5,Nd5,d4,d6,Bc4,Nb6,Bb3,Na5,Bxf7+,Kxf7,Ng5+,Kg8,Qf3,Qe8,e6,h6', 'Qf7+,Qxf7,exf7#', 'https://lichess.org/training/khoVL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KHQIm', 'Rapid', 'shomolomo', 1939, 'maia9', 1885, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Nxc3,e6,Bc4,Bb4,O-O,Bxc3,bxc3,Nge7,Bf4,O-O,Bd6,Re8,Nd4,Nxd4,cxd4,Nc6,e5,a6,Rb1,b5,Bb3,Bb7,Qd3,Ne7,g4,Ng6,Bc2,Qh4,Qg3,Qxg3+,fxg3,Rac8,Rf2,Rc3,Rbf1,Rec8,Bxg6,hxg6,Rxf7,Rc2,Rxd7,Bd5,Rf2,Rc1+,Rf1,Rxf1+,Kxf1,Rc1+,Ke2,Rc2+,Ke3,Rxh2,Kf4,Rxa2,Kg5,Kh7,Bf8,Rg2,Bxg7,Rxg3,Bf6+,Kg8,Kxg6,Rxg4+,Bg5,Kf8', 'Rd8#', 'https://lichess.org/training/KHQIm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KHrtX', 'Rapid', 'navid777', 1808, 'masterqwer', 1651, 'e4,e5,f4,d5,exd5,Qxd5,Nc3,Qd4,Nb5,Qe4+,Ne2,Bd6,d3,Qb4+,Nbc3,exf4,a3,Qb6,Nd5,Qc6,Ndxf4,Bxf4,Bxf4,Be6,Qd2,Nd7,O-O-O,O-O-O,Nd4,Qd5,Nxe6,Qxe6,c4,Nc5,Qa5', 'Nb3+,Kc2,Nxa5', 'https://lichess.org/training/KHrtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KHSmm', 'Classical', 'DoctorZaius69', 1666, 'NHorde', 1642, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,g6,Bg5,Bg7,O-O,O-O,f4,Nc6,Nf3,h6,Bh4,Qb6+,Kh1,Qxb2,Bxf6,Bxf6,Nd5,Bg7,Nh4,Qxa1,Qxa1,Bxa1,Rxa1,Be6,Nc7,Rac8,Nxe6,fxe6,Nxg6,Rf6,f5,exf5,exf5,Rxf5,Bg4,e6,Bxf5,exf5,Rf1,Kg7,Nh4,Nd4,Rd1,Rxc2,g3,Rc4', 'Rxd4,Rxd4,Nxf5+,Kf6,Nxd4', 'https://lichess.org/training/KHSmm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHTJ7', 'Blitz', 'FM jjpineda', 2128, 'diego10g', 2235, 'e4,g6,f4,Bg7,d4,d6,Nf3,c5,dxc5,Qa5+,Nc3,Qxc5,Qd5', 'Bxc3+,bxc3,Qxc3+', 'https://lichess.org/training/kHTJ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHTJt', 'Rapid', 'Braffin', 1680, 'patoch1', 1732, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,f6,Be3,Bd6,Bc4,Qe7,Bxg8,Rxg8,Qc4,Rf8,O-O,Qe5,f4,Qe7,Nd2,b6,Nf3,Bb7,e5,Bc5,Bxc5,bxc5,exf6,Rxf6,Rfe1,Re6,f5,Rxe1+', 'Rxe1,Qxe1+,Nxe1', 'https://lichess.org/training/kHTJt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHtkY', 'Blitz', 'stob1', 1873, 'SerkanMaster', 1898, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,Qb3,Qe7,O-O,h6,cxd4,d6,e5,Bb6,exd6,cxd6,Re1,Be6,d5,Na5,Qb5+,Qd7,dxe6,fxe6,Rxe6+,Kd8,Bg5+,hxg5,Qxg5+,Kc7,Qf4,Nf6,Nc3,Rhe8,Nd5+', 'Nxd5,Bxd5,Rxe6,Bxe6,Qxe6', 'https://lichess.org/training/kHtkY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KHTS1', 'Rapid', 'Milind_S', 1679, 'Giuseppe_Patane', 1760, 'd4,Nf6,Bf4,g6,Nc3,Bg7,Nb5,d6,Qd3,O-O,O-O-O,Nd5,Bd2,Bf5,Qg3,Nc6,f3,Bxd4,e4,Ne3,Bxe3,Bxe3+,Kb1,Be6,h4,h5,f4,a6,f5,Bxa2+,Kxa2,Nb4+,Kb3,Bc5,fxg6,f6,Nc3,c6,Be2,Qb6,Bxh5,Nd5+,Ka2,Qa5+,Kb1,Nxc3+,bxc3,Ba3,Be2,Rfc8,h5,c5,h6', 'Qb6+,Bb5,Qxb5+,Ka1,Qb2#', 'https://lichess.org/training/KHTS1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KhUgq', 'Classical', 'afarewelltoarms', 1915, 'wise33', 1874, 'e4,e6,d4,d6,c4,c6,Nf3,Be7,Bd3,Nd7,Nc3,e5,Be3,Ngf6,h3,O-O,Qc2,Nh5,g3,Nb6,O-O-O,exd4,Nxd4,c5,Nf5,Bf6,g4,Bxc3,gxh5,Bf6,Rhg1,Bxf5,exf5,Nd7,Rg2,Ne5,Rdg1,b6,Be4,Rb8,h6,g6,fxg6,fxg6,Bd5+,Kh8,f4,Nd7,f5,Qe8,Bg5,Bxg5+,Rxg5,Qe3+,Kb1,Rxf5,Rxf5', 'Qxg1+,Qc1,Qxc1+,Kxc1,gxf5', 'https://lichess.org/training/KhUgq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KHuPK', 'Rapid', 'xsepultronx', 1706, 'Dogan_bayram', 1726, 'd4,d5,Nf3,Nc6,Bf4,Nf6,e3,Bf5,c4,e6,Nc3,h6,Rc1,Nb4,a3,Nc6,cxd5,Nxd5,Qb3,Na5,Qb5+,c6,Qe2,Nxf4,exf4,Bd6,Qd2,Qc7,g3,Be4,Bg2,Nc4,Qe2,Bxf3,Bxf3,Nb6,O-O,O-O-O,Ne4,f5,Nc5,Bxc5,Qxe6+,Qd7,Qxd7+,Nxd7,dxc5,g5,fxg5,hxg5,b4,Ne5,Be2,f4,Rcd1,fxg3,fxg3,Rde8,Kg2,Ng6,Bg4+,Kb8,Rf7', 'Ne5,Bd7,Nxf7,Bxe8,Rxe8', 'https://lichess.org/training/KHuPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHuu3', 'Blitz', 'Chizuru', 1661, 'aixi6', 1639, 'f3,c5,Kf2,Nc6,e3,d5,d4,Bf5,Ne2,Nf6,g3,e5,c3,Bd6,Kg2,O-O,Na3,a6,Nc2,Qd7,dxe5,Nxe5,Nf4,Bc7,Nd3,Nxd3,Bxd3,c4,Bxf5,Qxf5,Nd4,Qd7,b3,Rfe8,Re1,b5,Ba3,Rad8,Qc2,Kh8,bxc4,bxc4,Rab1,Rb8,Rxb8,Bxb8,Rc1,Rxe3,Nf5,Rd3,Rb1,Qxf5,Rxb8+,Ng8,Qe2,Rxc3', 'Rxg8+,Kxg8,Qe8#', 'https://lichess.org/training/kHuu3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kHwHk', 'Rapid', 'icu2718', 2035, 'Bijan100', 1944, 'd4,Nf6,Nf3,d5,e3,g6,c4,c6,Nc3,Bg7,b3,O-O,Bd3,Nbd7,Bb2,dxc4,bxc4,Qa5,O-O,Nb6,e4,Qb4,Rb1,Nxc4,Ba1,Qa5,Bxc4,b5,Bd3,Bg4,e5,Nd7,Be4,Rac8,Qb3,Be6,Qb4,Qxb4,Rxb4,a5,Rb2,f6,exf6,Bxf6,Rd2,Nb6,Bd3,Rfd8,Ne4,Bg7,Nc5,Bf7,Re1,Nd5,Ne6,Bh6,Rdd1,Rd6,Nfg5,Bxe6,Nxe6,Kf7,Nc5,Nb4,Bb1,Rcd8,a3,Nd5,Ba2,Rf6,Ne4,Rf4,Nc3,Bg7,Nxd5,cxd5,Bb1,Rc8,Re2,Rc4,Red2,Rc8,Ba2,e6,Kf1,Rf8,f3,g5,Bb1,Kg8,Rd3,g4,Kg1,h5,Bb2,gxf3,gxf3,Rxf3,Rxf3,Rxf3,Kg2,Rb3,Rd2,Bxd4,Ba2', 'Rxb2,Rxb2,Bxb2', 'https://lichess.org/training/kHwHk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('khzxZ', 'Rapid', 'IQ02', 1663, 'DessinaTHOR', 1683, 'd4,c5,c3,cxd4,cxd4,Nf6,Bg5,e6,Nf3,Be7,e3,d5,Nc3,Nc6,Bb5,Bd7,O-O,a6,Bd3,O-O,Rc1,b5,Re1,b4,Ne2,a5,b3,h6,Bh4,Ng4,Bg3,a4,h3,Nf6,Bb5,axb3,Qxb3,Rc8,Ne5,Nxe5,Bxe5,Bxb5,Nf4,Nd7,Nh5,Nxe5,dxe5,f6,Qb2,fxe5,Qxe5,Bf6,Qxe6+,Kh8,Rxc8,Qxc8,Qxd5,Be8,Nf4,Bf7,Qb5,Bc3,Rd1,Bxa2,Ng6+,Kg8', 'Ne7+,Kh8,Nxc8', 'https://lichess.org/training/khzxZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ki00K', 'Rapid', 'iiigeorgeiii', 2074, 'Sinkoush', 2019, 'g4,d5,g5,e5,h4,Nc6,Bg2,Bf5,Nc3,e4,e3,Qd7,d4,Bb4,Bd2,Bg4,f3,exf3,Nxf3,O-O-O,Qe2,f6,O-O-O,fxg5,hxg5,Be7,Rh4,Bxg5,Rxg4,Qxg4,Rh1,Nh6', 'Bh3,Qxh3,Rxh3', 'https://lichess.org/training/Ki00K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ki2S9', 'Rapid', 'Yessirskii101', 1743, 'Goricc', 1748, 'e4,e5,Bc4,a6,Nf3,Nf6,Nc3,c5,d3,b5,Bd5,Nxd5,Nxd5,Bb7,Nxe5,Bd6,Bf4,O-O,Qg4,Bxd5,exd5,Qf6,O-O,Bxe5,Bxe5,Qxe5,c3,Qxd5,Qg3,Nc6,a3,Rfe8,Rfe1,Qb3,Qh3,Rxe1+,Rxe1,d6,Qd7,Ne5,Qxd6,Nxd3,Qxd3,Qxb2,Qd5,Rf8,Qxc5,h6,g3,Qd2,Kf1,Qd3+,Kg2,Rd8,Qc6,Rd6,Qe8+,Kh7,Qxf7,Qxc3', 'Qf5+,Rg6,Re6,Qf6,Rxf6', 'https://lichess.org/training/ki2S9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ki3CH', 'Classical', 'rogueshaman', 1757, 'ajcjohnny', 1705, 'c4,e5,Nc3,b6,Nf3,Nc6,d3,Be7,g3,Bb7,Bg2,Nf6,O-O,O-O,a3,d5,cxd5,Nxd5,Nxd5,Qxd5,Nh4,Qe6,Nf3,Rad8,b4,Nd4', 'Nxd4,exd4,Bxb7', 'https://lichess.org/training/ki3CH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KI4LA', 'Blitz', 'remessa', 1740, 'Absolem', 1683, 'd4,d5,Nf3,Nc6,e3,Nf6,c4,dxc4,Bxc4,e6,O-O,a6,Nc3,b5,Bd3,Bb7,Ne4,Nb4,Nxf6+,Qxf6,Be2,Bd6,a3,Nc6,Qc2,h6,h3,g5,Bd2,h5,Bb4,g4,Bxd6,gxf3,Bxf3,Nxd4,Qxc7,Nxf3+,gxf3,Rg8+,Kh2,Rg2+,Kxg2', 'Qxf3+,Kg1,Qg2#', 'https://lichess.org/training/KI4LA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ki6Jb', 'Classical', 'akutakemiluys', 2105, 'Uygar118', 1987, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nf3,Nxe4,Nc3,Nxc3,dxc3,d5,Be3,Bf5,Bd3,Bg6,Qd2,Bd6,O-O-O,Ne7,g4,c6,Rdg1,Qc7,h4,O-O-O,h5,Bxd3,Qxd3,Kb8,Qd4,c5,Qxg7,Nc6,Qf6,Ne5,Bxc5,Nc4,Bxd6,Nxd6,Nd4,Ne4,Qf5,Qa5,Kb1,Nd2+,Ka1,Rd6,Re1', 'Qxa2+,Kxa2,Ra6#', 'https://lichess.org/training/Ki6Jb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ki6Jl', 'Rapid', 'zeeden', 1686, 'janakichaudhary', 1650, 'd4,d5,c4,c6,Bf4,Nf6,Nc3,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Nbd7,Nge2,Be7,O-O,O-O,a3,Re8,h3,Nf8,b4,Ng6,Bh2,Bd6,c5,Bxh2+,Kxh2,Qc7+,Kh1,e5,e4,exd4,Nxd4,Nxe4,Nce2,Qd7,Ra2,Re5,Ng1,Nf4,Qf3,Ng6,g4,Nh4,Qf4,Rae8,Ndf3,Nxf3,Qxf3,Ng5,Qd3,Qe6,Kg2,Qh6', 'f4,Re4,fxg5', 'https://lichess.org/training/ki6Jl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KI97f', 'Rapid', 'sezginonline', 2170, 'Cristinoff', 2141, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,Ng4,Bb5,Bd7,Nxc6,bxc6,Bxc6,Nxe3,Bxd7+,Qxd7,fxe3,g6,e5,Bg7,exd6,exd6,O-O,O-O,Qd5,Rab8,Ne4,Rxb2,c4,Be5', 'Qxe5,dxe5,Nf6+,Kg7,Nxd7', 'https://lichess.org/training/KI97f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KIAAs', 'Rapid', 'The_Great_Zero', 2194, 'Murmanskiikot', 2121, 'e4,e5,Nf3,Nf6,Bb5,c6,Ba4,d6,O-O,Nxe4,Re1,Nc5,c3,Nxa4,Qxa4,Be7,d4,O-O,dxe5,Na6,exd6,Qxd6,Bf4,Qf6,Bg5,Nc5,Qh4,Qf5,Bxe7,Re8,Nbd2,Nd3,Re3,Be6,Nd4,Qd5,Rxd3,c5,Bxc5,Qxc5,Ne4,Qc4,Rg3,Kh8,Nf6,h6,Re1,Red8,Nxe6,Qxe6,Ne4,f5,Rge3,fxe4,Rxe4,Qf7,Re7,Re8,h3,Qg6,Qd4,Rad8,Qxa7', 'Rxe7,Rxe7,Rd1+,Kh2,Qd6+', 'https://lichess.org/training/KIAAs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kiALZ', 'Rapid', 'honzo94', 1863, 'rodrigoflorenciano', 1754, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,Bxc6+,bxc6,d4,Nxe4,dxe5,Be7,exd6,cxd6,Re1,d5,Nbd2,Nxd2,Bxd2,O-O,Nd4,c5', 'Nc6,Qd6,Nxe7+', 'https://lichess.org/training/kiALZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kib1F', 'Rapid', 'antoniorba', 1799, 'marahfkafa', 1809, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Be6,Bc4,c5,Qd3,Nf6,Bb5+,Bd7,Bg5,Be7,Bxf6,Bxf6,Qxd6', 'Bxc3+,bxc3,Bxb5', 'https://lichess.org/training/Kib1F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kibLB', 'Blitz', 'Macko09', 2186, 'IM AstanehChess', 2592, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Qe2,Ndf6,Nxf6+,Nxf6,c3,Bf5,Nf3,e6,Bf4,h6,Qc4,Bd6,Bxd6,Qxd6,Rd1,O-O,Bd3,Bxd3,Qxd3,Rad8,O-O,a6,Qe2,c5,Qe5,Qxe5,dxe5,Nd5,Rd2,Nb6,Rfd1,Rd5,b3,c4,bxc4,Rxd2,Rxd2,Rc8,Rb2,Nxc4,Rxb7,g5,g4,Rc5,Rb4,a5,Rb8+,Kg7,a4,Nxe5,Nxe5,Rxe5,Rb5,Re4,Rxa5,Rxg4+,Kf1,Rc4,Ra8,Rxc3,a5,Ra3,a6,g4,Ke2,h5,Kd2,h4,Kc2,Kf6,Kb2,Ra5,Kb3,h3,Kb4,Ra1,Kb5,Rb1+,Kc6,Rc1+,Kb6,Rb1+,Kc6,Rb2,a7,Ra2,Kb7,Rxf2,Rg8,Rb2+,Kc6,Ra2,a8=Q,Rxa8,Rxa8,Kf5,Ra3,Ke4,Kd6,e5,Ke7,f5,Kf6,f4,Kg5,g3,hxg3', 'h2,gxf4,h1=Q', 'https://lichess.org/training/kibLB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kICoO', 'Rapid', 'rajumehedi', 1607, 'theWeakForce', 1633, 'e4,d5,exd5,Nf6,d4,Nxd5,Bc4,c6,Qf3,g6,Nc3,e6,Nh3,Bg7,Ng5,Qe7,Nxd5,exd5+,Be2,O-O,O-O,h6,Nh3,Bxd4,Bxh6,Re8,c3,Bb6,Rfe1,Qh4,Bd2,Bxh3,gxh3,Nd7,Qg3,Qxg3+,hxg3,Kg7,Bg4,Nf6,Rxe8,Rxe8,Bf3,Nd7,Bf4,Nc5,Be3,Nd3,Bxb6,axb6,b3,Ne5,Kg2,Nd3,Rd1', 'Ne1+,Kf1,Nxf3', 'https://lichess.org/training/kICoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KICqO', 'Classical', 'Babdier', 1786, 'Makar2602', 1706, 'e4,c5,Nf3,d6,Bc4,Nf6,Ng5,e6,d3,h6,Nf3,g6,Bd2,Bg7,O-O,O-O,Nc3,Nc6,a3,Bd7,Rb1,b6,Be3,Na5,Qd2,Nxc4,dxc4,Bc6,e5,dxe5,Nxe5,Qxd2,Bxd2,Bb7,h3,Rad8,Rfd1,Nh5,Nd3,Kh7,g4,Nf6,Be3,Ba6,Nb5,Ra8,b3,Ne4,Bd2,Bxb5,cxb5,Bc3,Be1,Bxe1,Rxe1,Nc3,Rbc1,Nxb5,a4,Nd6,Rcd1,Rad8,Ne5,Kg7,Kg2,Nb7,Nc6,Rd6,Nxa7,Ra8,Nb5,Rxd1,Rxd1,Rd8,Rxd8,Nxd8,Kf3,Nc6,Ke4,Kf6,f4,Ke7,c3,f5+,Ke3,Kf6,Nd6,fxg4,hxg4,e5,Nc8,exf4+,Kxf4,g5+,Kg3,Ke5,Nxb6,Ke4,Nc4,Kd3,a5,Kxc3,a6,Kxb3', 'Na5+,Nxa5,a7', 'https://lichess.org/training/KICqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KICUg', 'Rapid', 'Visnupadaja', 1874, 'JessicaRubbit', 2114, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,Be6,Bb5,Ne7,d4,exd4,Nxd4,a6,Nxe6,fxe6,Bc4,d5,exd5,exd5,Bb3,Qd6,Nc3,O-O-O,g3,Na5,Bf4,Qc6,Qg4+,Kb8,Ba4,b5,Bb3,Nxb3,axb3,d4,Ra5,dxc3,bxc3,h5,Qh3,h4,Rfa1,Nd5,Rxa6,Qb7,Ra8+,Qxa8,Rxa8+,Kxa8,Qg2,c6,c4,Nxf4,Qxc6+,Ka7,Qc7+,Ka6,Qxd8,hxg3,fxg3', 'Bc5+,Kf1,Rxd8', 'https://lichess.org/training/KICUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kid7N', 'Rapid', 'Bijan100', 1916, 'kinneyjohn', 1964, 'e4,c5,f4,Nc6,Nf3,a6,a4,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd2,Qa5,Bd3,d5,e5,Nd7,Qg4,g6,h4,Nc5,h5,gxh5,Rxh5,d4,Ne4', 'Nxe4,Bxe4,Bxd2+', 'https://lichess.org/training/Kid7N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kiDdU', 'Blitz', 'Merkfrom', 1858, 'babaeikaraj', 1877, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,Nf6,O-O,a6,a3,Be7,Be3,O-O,c3,b5,Ba2,Bb7,Nbd2,d6,h3,e5,Nh2,d5,f4,d4,cxd4,exd4,Bf2,Qc7,g3,Qd7,Kg2,Bc8,f5,Bd6,Ng4,Nxg4,Qxg4,Kh8,Bd5,Ra7,Nf3,f6,Rae1,Bb7,Be6,Qc7,h4,Ne7,h5,h6,Nh4,Kh7,Ng6,Nxg6,hxg6+,Kh8,Rh1,c4,Qh4,cxd3,Qxh6+,gxh6', 'Rxh6+,Kg7,Rh7#', 'https://lichess.org/training/kiDdU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kIdlv', 'Rapid', 'Daham_2009', 1959, 'sandulw', 1814, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,h6,Bb3,d6,h3,Be6,Bc2,O-O,Nbd2,d5,Qe2,dxe4,dxe4,Qd7,Nf1,Rad8,Bd2,a6,g4,b5,b3,Nxg4,hxg4,Bxg4,Ng3', 'Bxf3,Qxf3,Qxd2+', 'https://lichess.org/training/kIdlv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KIdrC', 'Classical', 'ayaz42', 1797, 'rektm8', 1802, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,g6,Nxf5,gxf5,Bd3,e6,Nf3,Nd7,Qe2,Ngf6,Bxf5', 'Qa5+,Bd2,Qxf5', 'https://lichess.org/training/KIdrC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KiGUb', 'Rapid', 'Mikhail13200', 1791, 'Calvin62', 1902, 'd4,d5,c4,dxc4,e3,Nc6,Bxc4,Nf6,Nf3,Na5,Bxf7+,Kxf7,Ne5+,Ke8,Qa4+,Bd7,Qxa5,b6,Qc3,Ng4,Nc6,Qc8,h3,Nf6,Ne5,b5,Qb3,c6,Nf7,Rg8,Ne5,Be6,Qc2,g5,f3,Nd5,Qxc6+', 'Qxc6,Nxc6,Rc8', 'https://lichess.org/training/KiGUb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kigyq', 'Rapid', 'Madness777', 1838, 'Sanyaasi', 1825, 'e4,e5,Ne2,c5,f4,Nc6,fxe5,Nxe5,d4,cxd4,Qxd4,Qh4+,Ng3,Qf6,Nc3', 'Nf3+,gxf3,Qxd4', 'https://lichess.org/training/kigyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KIh2L', 'Blitz', 'safyahmad1265', 2310, 'FM fmewert', 2486, 'e4,e5,Nc3,Nc6,f4,exf4,Nf3,g5,d4,Bg7,d5,Ne5,Nxe5,Bxe5,h4,f6,Qh5+,Kf8,g3,d6,hxg5,fxg5,gxf4,gxf4,Rg1,Qf6,Bd2,Bd7,Be2,Ne7,O-O-O,Ng6,Bg4,Ke7,Bf5,Rag8,Rg4,Rg7,Rdg1,Rhg8,Ne2,Bxb2+,Kb1,Be5,Bxd7,Kxd7,Qh3,Kd8,Rg5,Ne7,Rxg7,Rxg7,Rxg7,Qxg7,Bxf4,Ng6,Bg5+,Bf6,Qf5,Bxg5,Qxg5+,Kd7,Nf4,Qe5,Qg4+,Ke7,Nxg6+,hxg6,Qxg6,c6,Qh7+,Kf6,Qh8+,Kg5,Qg8+,Kf4,dxc6,bxc6,Qb8', 'Qb5+,Qxb5,cxb5', 'https://lichess.org/training/KIh2L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KIHRh', 'Rapid', 'hhades', 1916, 'gsdm60', 1901, 'e4,c5,d3,d6,Nd2,Nc6,Ngf3,g6,g3,Bg7,Bg2,Nf6,c3,O-O,a4,a5,O-O,Ne5,Qe2,Be6,Nh4,Qd7,f4,Neg4,h3,Nh6,Kh2,Ne8,g4,f6,Ndf3,d5,f5,gxf5,gxf5,Bf7,Rg1,dxe4,dxe4,Qc7+,Kh1,Kh8,Nh2,Qg3,N4f3,Bh5,Be3,Rg8,Bf2,Qc7,Qe3,b6,Rae1,Nf7,Bf1,Bh6,Qd3,Bf4,Be3,Bxh2,Nxh2,Ne5', 'Rxg8+,Kxg8,Qd5+', 'https://lichess.org/training/KIHRh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kIizP', 'Blitz', 'Zezus86', 1827, 'shambhunathsonwani', 1805, 'd4,c6,e4,d5,e5,Bf5,h3,h6,g4,Bh7,f4,e6,Nf3,Nd7,Bd3,Bxd3,Qxd3,c5,b3,cxd4,Nxd4,Bc5,Be3,Ne7,Nd2,O-O,N2f3,Rc8,h4,Qa5+,c3,Bb6,Bd2,Bxd4,Nxd4,Qb6,g5,Nc5,Qf3,Ne4,gxh6,Nxd2,Qg2,g6,Qxd2,Nf5,h5,Nxd4,cxd4,gxh5', 'Qg2+,Kh7,Qg7#', 'https://lichess.org/training/kIizP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kiJgE', 'Blitz', 'jean_val_jean', 2419, 'FM fQ-System', 2333, 'd4,c6,Nf3,d5,e3,Nf6,Bd3,a6,O-O,Bg4,h3,Bh5,b3,Nbd7,Nbd2,e5,dxe5,Nxe5,Be2,Nxf3+,Nxf3,Bd6,Bb2,O-O,Nd4,Bg6,f4,Be4,Bf3,Qe7,Qe2,g6,Rad1,Rae8,Qf2,Bxf3,Nxf3,Ne4,Qh4,Qxh4,Nxh4,Ng3,Rf3,Ne4,f5,g5,c4,Rd8,cxd5,cxd5,Kf1,gxh4,Rxd5,Bg3,Rd4,Nd2+,Ke2,Nxf3', 'Rg4+,Ng5,Rxg5#', 'https://lichess.org/training/kiJgE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kiKcd', 'Classical', 'chess888fighter8', 1964, 'Gouda76', 1962, 'd4,d5,Nf3,Nf6,g3,b6,Bg2,Bb7,O-O,e6,c4,dxc4,Qa4+,Nbd7,Ne5,Bxg2,Kxg2,Bd6,Nc6,Qc8,f3,O-O,Nc3,a6,Qxc4,Qb7,a4,b5,axb5', 'axb5,Qxb5,Qxb5,Nxb5,Rxa1', 'https://lichess.org/training/kiKcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KIkO2', 'Classical', 'ReedPhillip', 1832, 'Evgeny20198', 1861, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Bc4,Nf6,Nc3,Bc5,Qd3,O-O,h3,Bb7,O-O,a6,e5,d5,exf6,dxc4,Qxd8,Raxd8,fxg7,Kxg7,Bf4,Bd6,Be3,b5,a4,b4,Na2,a5,c3,b3,Nc1,f5,Ne2,f4,Bd4+,Kg6,f3,Kf5,Bg7,Rf7,Bd4,Rg8,Kh1,Rg6,Rad1,Bc6,Ra1,Rf8,Rg1,Rfg8,Bf2,Be5,Bd4,Rh6,Bxe5,Kxe5,Nd4,Bd5,Rae1+,Kf6,Re2,c5,Nb5,Rxh3+,gxh3,Bxf3+,Kh2', 'Rxg1,Kxg1,Bxe2', 'https://lichess.org/training/KIkO2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KiKy5', 'Rapid', 'Professor_Hulk', 1810, 'RhaenyraTargaryen', 1809, 'e4,Nc6,Nf3,e5,Bb5,f6,O-O,Nd4,Nxe5,fxe5,Qh5+,g6,Qxe5+,Qe7,Bxd7+,Bxd7,Qxh8,Nf6,Na3,O-O-O,Re1,Bg7,Qxd8+,Kxd8,c3,Nb5,d4,Nxa3,bxa3,c5,h4,cxd4,e5,Ng4,Bg5,Nf6', 'exf6,Bxf6,Rxe7', 'https://lichess.org/training/KiKy5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KIl7O', 'Blitz', 'irfanR', 2176, 'Sghosh', 2271, 'd4,e6,c4,Nf6,Nf3,d5,Nc3,Bb4,e3,O-O,Bd3,c5,O-O,Nc6,cxd5,Nxd5,Ne2,Re8,e4,Nf6,e5,Nd5,a3,Ba5,dxc5,Bc7,Ng5,h6,Bh7+,Kf8,Nxf7,Kxf7,Qc2,Nxe5,f4,Nc6,Qg6+,Kf8,f5,exf5,Bxh6,gxh6,Qg8+,Ke7,Qg7+,Ke6,Nd4+,Nxd4,Rae1+,Ne3,Rxe3+,Kd5,Rd1,Be5,Bg8+,Rxg8', 'Qxe5+,Kc6,Rxd4,Qxd4,Qxd4', 'https://lichess.org/training/KIl7O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KilDT', 'Rapid', 'adamsky', 1716, 'to_ca', 2002, 'd4,d5,c4,c6,e3,Nf6,Nc3,g6,Nf3,Bg7,Be2,O-O,cxd5,cxd5,O-O,a6,a3,Bd7,b4,Bc6,Ne5,Nfd7,Nxc6,bxc6,Bd2,a5,bxa5,Rxa5,Qb3,Ra7,Rfc1,e5,dxe5,Nxe5,Rab1,Nbd7,Na4,Qa8,Bd1,Rb8,Qc2,Rab7,Rxb7,Rxb7,Bb4,Nc4,Be2,Ndb6,Nxb6,Rxb6,Bxc4,dxc4,Qxc4,Bb2,Rb1,Bxa3,Ra1,Rxb4', 'Qxb4,Bxb4,Rxa8+', 'https://lichess.org/training/KilDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KILgm', 'Rapid', 'Fineapple4', 1606, 'JoachimGarbe', 1616, 'e4,e5,Nf3,f5,d3,Nc6,Nc3,Nf6,Be2,Bb4,Bd2,d6,O-O,O-O,a3,Ba5,b4,Bb6,Nd5,Nxd5,exd5,Nd4,Nxd4,Bxd4,Rc1,c5,dxc6,bxc6,Bf3,d5,Re1,Qf6,a4,f4,a5,Bf5,c3,e4,dxe4,dxe4,Bxe4,Bxe4,cxd4,Bd5,Qg4,Qxd4', 'Bc3,Qxc3,Rxc3', 'https://lichess.org/training/KILgm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kILnE', 'Rapid', 'puratastatura', 1656, 'Morlandoemtp', 1971, 'e4,e6,Nf3,d5,e5,Bd7,d4,c5,c3,Nc6,Bg5,f6,exf6,Nxf6,Ne5,Qb6,b3,cxd4,cxd4,Nxd4,Be3,Bb4+,Nd2,Bc3,Nxd7,Nxd7,Rc1,Bb2,Rb1,Bc3,Rc1,Qb4,Bxd4,Qxd4,Bb5,Qe4+,Kf1,Bxd2,Qxd2,Rf8,Re1,Qh4', 'Rxe6+,Kf7,Bxd7', 'https://lichess.org/training/kILnE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KImi8', 'Classical', 'murali0', 1900, 'PauloSergio1970', 1672, 'e4,d6,f4,Nf6,Nf3,Bg4,Bc4,Nxe4,O-O,d5,Bb3,e6,d3,Nf6,h3,Bxf3,Qxf3,Nc6,c3,Bc5+,Kh1,Qe7,d4,Bxd4,cxd4,Nxd4,Ba4+,b5,Qd3,c5,Bxb5+,Nxb5,Qxb5+,Nd7,Bd2,O-O,Nc3,Rab8,Qe2,Rxb2,Rab1,Rfb8,Nxd5,Qd6,Rxb2,Rxb2,Qg4,Qxd5', 'Bc3,Rxg2,Qxg2', 'https://lichess.org/training/KImi8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kIMt6', 'Blitz', 'Babi_nou', 1848, 'jueko', 1917, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Be3,Nf6,Nbd2,e5,Qc3,Nxe4,Nxe4,Bxe4,Rd1,Bxf3,gxf3,Be7,f4,exf4,Qxg7,Bf6,Qh6,fxe3,Qxe3+,Qe7,Rxd6,Qxe3+,fxe3,Ke7,Rd3,Rad8,Rb3,b6,Ke2,Rd6,Ra3,a5,c3,Rhd8,Ra4,Rd2+,Kf3,Rxb2,Rf1,Bxc3,Re4+,Kf8,Kg3,Rd7,Rh4,Be5+,Kf3,Rxh2,Re4,f6,Rc1,Rh3+,Kg2,Rg3+,Kf2,Rd2+,Kf1,h5,Rc8+,Kf7,Rc1,Rh3,Kg1,Rg3+,Kh1,h4,Rf1,h3,Rxe5,Kg6,Re6,Rgg2,Rexf6+,Kg5,R6f5+,Kg6,Rf6+,Kg5,R6f5+,Kg4', 'R1f4+,Kg3,Rg5#', 'https://lichess.org/training/kIMt6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kiOWw', 'Blitz', 'Dviol23', 2022, 'hamidbuteng', 2032, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,h3,e6,g4,Bg6,Bg5,Be7,e3,Nbd7,Bd3,O-O,Bxg6,hxg6,Qe2,a6,e4,dxe4,Nxe4,Nxe4,Bxe7,Qxe7,Qxe4,Qb4+,Nd2,Qxb2,Rb1,Qxa2,Rxb7,Rab8,Rxd7,Qa1+,Ke2,Qa2,Rd1,Rb2,Qxc6,a5,Rb7,Rc2,Ra7,Rd8,Qc7,Rf8,Qxa5,Qxc4+,Ke1,Qxd4,Rc7,Rd8,Rxc2,Rd5,Rc8+,Kh7,Qa1,Qd3,Rc3', 'Re5+,Ne4,Rxe4#', 'https://lichess.org/training/kiOWw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kiOy1', 'Classical', 'MAJIDSALIMI', 1650, 'd_khar', 1613, 'f4,g6,Nf3,Nf6,Nc3,Nc6,e3,a6,b3,Bg7,Bb2,O-O,h3,Re8,Bd3,Nb4,Be2,Nh5,a3,Nc6,O-O,Ng3,Re1,e5,fxe5,Nxe5,Nxe5,Bxe5,d4,Bg7,Kh2,Qh4,Bc4,c6,Qf3,Nf5,e4,d5,Bd3,Nxd4,Qd1,Be5+,Kg1,Bg3,Re2,Nxe2+,Qxe2,Bf5,Qf3,dxe4,Nxe4,Bxe4,Bxe4,Rxe4,Rd1,Re1+,Rxe1,Bxe1,Qe3,Bf2+,Qxf2,Qe4', 'Qf6,Kf8,Qh8+,Ke7,Qxa8', 'https://lichess.org/training/kiOy1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kIrq7', 'Rapid', 'x3blis', 1935, 'Djstar7', 1902, 'd4,Nf6,c4,e5,e3,Bb4+,Bd2,Bxd2+,Nxd2,exd4,exd4,O-O,Bd3,Re8+,Ne2,d5,c5,Bg4,f3,Bh5,O-O,c6,Nf4,Bg6,Nxg6,hxg6,Re1,Nbd7,Rxe8+,Qxe8,Qe1,Nh5,g3,f5,Qf2,Qf7,Re1,Re8,b4,b6,a4,bxc5,bxc5,Nhf6,a5,Nf8,a6,Ne6,Rb1,Qc7,Rb7,Qa5,Rxa7,Nxd4,Rb7,Qa1+,Nf1,Nb5', 'Bxb5,cxb5,a7', 'https://lichess.org/training/kIrq7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kirVC', 'Rapid', 'ludlud', 1659, 'el-aleph', 1707, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,Nh5,Be3,d6,Qd2,O-O,Be2,Nf6,Bh6,Re8,Bxg7,Kxg7,O-O-O,e5,dxe5,Ng4,Bxg4,Bxg4,f3,Be6,exd6,cxd6,Qxd6,Qg5+,Kb1,Qxg2,Nge2,Qxf3,h4,h5,Nd4,Qf6,Rdf1', 'Bxa2+,Kxa2,Qxd6', 'https://lichess.org/training/kirVC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KIs4h', 'Rapid', 'skiff19', 1890, 'vit216', 1717, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,e6,Qd2,Ne7,Nc3,a6,O-O-O,Nbc6,g4,O-O,h4,d5,h5,dxe4,Nxe4,Nxd4,Bxd4,Bxd4,Qxd4,Qxd4,Rxd4,b5,Nf6+,Kg7,g5,Bb7,Rh2,Nd5,hxg6,Nxf6,gxf6+,Kxg6,Rf4,Rad8,Bd3+,Kg5,Rfh4,Kxf6,Rxh7,Rg8,Kd2,Rg7', 'R2h6+,Rg6,Rxg6+,fxg6,Rxb7', 'https://lichess.org/training/KIs4h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kisb7', 'Rapid', 'Madwaraj', 1973, 'juventusete', 1883, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,d6,Qb3,Qe7,Ng5,Nh6,d5,Nd8,Qb5+,Bd7,Qxa5,O-O,O-O,a6,Qa3,b5,Be2,Ng4,Bxg4,Bxg4,c4,bxc4,Qg3,Bh5,f4,f6,Nf3,exf4,Qxf4,Re8,Nc3,Nb7,Nd2,Nc5,Re1,Nd3,Qh4,Nxe1,Qxh5,Nc2,Rb1,Rab8,Rxb8,Rxb8,Qd1,Ne3,Qe2,Nc2,Nxc4,f5,Qxc2,fxe4,Nxe4,Re8,Ncd2,Qe5,Qxc7,Qd4+,Kh1,Rxe4,Qd8+,Kf7,Qd7+,Kg8,Nf3', 'Qd1+,Ng1,Qxc1', 'https://lichess.org/training/kisb7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kisnq', 'Rapid', 'jaywantdesh', 2060, 'Gyoegy', 2245, 'd4,d5,Bf4,e6,Nf3,g6,Nc3,Bg7,Qd2,Bd7,e4,c6,e5,f6,Bd3,f5,Bg5,Qc7,h4,h5,Ne2,Bh6,Nf4,Kf7,Rh3,c5,Bxh6,Rxh6,Ng5+,Ke7,dxc5,Qxc5,Be2,Nc6,Rc3,Qd4,Rd3,Qxb2,Rd1,Nxe5,Rb3,Qxa2,Rxb7,Nc4,Qb4+,Ke8,Nfxe6,Qa5,Ng7+,Kd8,Nf7+,Kc8,Qxa5,Nxa5,Nd6+,Kd8,Nf7+,Ke7,Rxd7+,Kxd7,Rxd5+,Ke7,Nxh6,Nxh6,Rxa5,Kf7,Bf3,Rg8,Rxa7+,Kf6,Ne6,Re8,c4,Rxe6+,Kd2,f4,c5,Nf5,c6,Ne7,c7,Rd6+,Kc3,Ke6,Kc4,Kd7,Kc5,Nc8,Ra4,Kxc7,Rxf4,Rd2,Rf7+,Kd8,Be4,Ne7,Rf8+,Kd7,Rf7,Ke6,Rg7,Kf6,Rh7,Rd8,Bc2', 'Rc8+,Kd4,Rxc2', 'https://lichess.org/training/kisnq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KisoB', 'Rapid', 'SegoQQ', 1655, 'petronelli', 1690, 'e4,e5,Nf3,Nc6,Bb5,Qe7,O-O,a6,Ba4,b5,Bb3,Nf6,d3,Qd8,a3,Bc5,Be3,Ba7,c3,d6,Bxa7,Nxa7,Re1,O-O,d4,Bg4,h3,Bh5,Qc2,Bxf3,gxf3,Nh5,Kh2,Qh4,Rg1,Nf4,Rg3,Nc6,Qd2,Ne7,a4,bxa4,Bxa4,f5,Na3,h6,Rag1,Nh5', 'Qxh6,Qxg3+,Rxg3', 'https://lichess.org/training/KisoB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KITMt', 'Rapid', 'Luxi1', 1717, 'Lovemykids2005', 1656, 'e4,c5,Nf3,d6,Nc3,a6,d4,cxd4,Nxd4,Nf6,Bc4,e6,O-O,b5,Bd3,Bb7,Bg5,Be7,Nf3,Nbd7,b4,O-O,a4,Qc7,Qd2,h6,Be3,Ng4,axb5,Nxe3,fxe3,axb5,Nxb5,Qb6,Rxa8,Rxa8,Qc3,Rc8,Qb3,Ba6,Nbd4,Bxd3,cxd3,Ne5,Qb1,Nxf3+,Rxf3,Bg5,Qe1,Qa6,b5,Qa3,Qf1,Qc5,Rxf7,Kh7,Nxe6', 'Qxe3+,Kh1,Rc1', 'https://lichess.org/training/KITMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KIUxL', 'Bullet', 'Favoritenschreck', 1768, 'schachistalles', 1719, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,d4,Bb4+,c3,Ba5,Bd3,Bg4,O-O,Ne7,Bxf4,O-O,b4,Bb6,a4,a5,b5,Nd7,Kh1,Nf6,Nbd2,c5,c4,Qd7,d5,Nexd5,cxd5,Nxd5,Bg3,Nc3,Qc2,Rad8,Bxh7+,Kh8,Qxc3,Kxh7,Nc4,Bc7,Bxc7,Qxc7,Nxa5,b6,Nc4,Bf5,Ng5+,Kg6,Nf3,Rd3,Qe1,Qf4,Qg3+,Qxg3,hxg3,Kh5,Nxb6,Be4,a5,Rh8,Kg1,Kg4,Ne5+,Kxg3,Nxd3,Rh2,Ne5,Rxg2+,Kh1,Rf2+,Kg1', 'Rg2+,Kh1,Rh2+,Kg1,Rh1#', 'https://lichess.org/training/KIUxL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KivOi', 'Rapid', 'Ant-on_35', 1790, 'Atder', 1774, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,e5,Ng8,Bc4,d6,Qd5,Be6,Qd4,Bxc4,Qxc4,dxe5,Qb5+,c6,Qxe5+,Qe7,Bf4,Nf6,Nc3,Qxe5+,Bxe5,O-O-O,Bxf6,gxf6,O-O,Rd2,Rac1,f5,Rfd1,Bh6,Rxd2,Bxd2,Rd1,Bxc3,bxc3,Rd8,Rxd8+,Kxd8,f4,Kd7,Kf2,Kd6,Ke3,Kd5,Kd3,b5,a3,f6,h3,h6,g4,fxg4,hxg4,a6,Ke3,Kc4,Kd2,a5,f5,b4,axb4,axb4,cxb4,Kxb4,Kd3,c5,c3+', 'Kb3,c4,Kb4', 'https://lichess.org/training/KivOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kiW0L', 'Blitz', 'Schalke04bfc', 1801, 'MSchickt', 1781, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,O-O-O,h3,Bh5,d3,e5,Be3,e4,dxe4,Qxe4,Qc1,Bd6,a4,Bxf3,Bxf3,Qe5,g3,f5,Bxc6,bxc6,Bf4,Qe6,Re1,Qf7,Bxd6,cxd6,Qe3,Rhe8,Qd3,f4,Qa6+,Kb8,Qxc6,fxg3,Rxe8', 'Qxf2+,Kh1,Qh2#', 'https://lichess.org/training/kiW0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kIWgw', 'Blitz', 'Artur19811981', 2067, 'NM chess4life23', 2351, 'f4,d5,Nf3,Nc6,e3,Bg4,b3,e5,fxe5,Nxe5,Be2,Nxf3+,Bxf3,Qh4+,g3,Qf6,Bxg4,Qxa1,Nc3,Bb4,Nxd5,Qe5,Nxb4,Qe4,O-O,Qxb4,Bb2,Nf6,Bxf6,gxf6,Rxf6,Rd8,d3,Qe7,Qf3,O-O,Bf5', 'Qxf6,Bxh7+,Kg7', 'https://lichess.org/training/kIWgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KixUk', 'Blitz', 'Rajpatel02', 1883, 'Fernando2312', 1879, 'd4,d5,Bf4,Nf6,e3,e6,Bd3,Be7,Nd2,Nbd7,c4,O-O,Bg3,dxc4,Nxc4,a6,f4,b5,Nd2,Bb7,Ngf3,c5,Bh4,Rc8,O-O,h6,Ne5,cxd4,exd4,Nd5,Ndf3,Bxh4,Bc2,Bf6,Qd3,g6,Nxg6,Nb4', 'Ne7+,Kg7,Qh7#', 'https://lichess.org/training/KixUk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kixYj', 'Rapid', 'likgp', 1646, 'vetankara', 1667, 'e4,e5,Nf3,Nc6,b3,Nf6,d3,h6,Bb2,d6,Nbd2,Be7,Be2,O-O,h3,a5,Nc4,b5,Ne3,Be6,d4,exd4,Nxd4,Nxd4,Bxd4,Nxe4,Bxb5,Bg5,O-O,Qc8,Qf3,Nd2,Qg3,Nxf1,Nxf1,Qd8,h4,Bf6,Bxf6,Qxf6,Re1,Rab8,Bd3,Rfe8,Ne3,Bd7,f4,Re7,Rf1,Rbe8,Nd5,Qd4+,Kh2,Re6,Nxc7,Rg6,Bxg6,Re3,Qf2,fxg6,Re1', 'Rh3+,Kg1,Rh1+,Kxh1,Qxf2', 'https://lichess.org/training/kixYj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KIzbZ', 'Rapid', 'jarrettn', 1737, 'pkobayashi', 1779, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,e6,Nxc3,Bb4,Nf3,Bxc3+,bxc3,Ne7,Bg5,O-O,O-O,a6,Qd6,Nbc6,Bxe7,Nxe7,Ng5,Ng6,Qg3,h6,Nf3,b5,Bd3,Qf6,e5,Qe7,Bxg6,fxg6,Qxg6,Qf7,Qg3,Bb7,Nh4,Be4,a4,Qf4,Qxf4,Rxf4,g3,Rff8,axb5,axb5,Rxa8,Rxa8,f3,Bc6,Ng6,Kf7,Nf4,Ra3,Rc1,Bxf3,Kf2,Bc6,h4,Ra2+,Ke3,Rh2,h5,Rh1,Rxh1,Bxh1,g4,Bc6,Ng6,Bd5,Nh8+,Ke7,Ng6+,Ke8,Nf4,Bb3,Nd3,Bd1,Kf4,Be2,Nc5,Ke7,Nb7,Bf1,Nd6,Kf8,Ne4,Kg8,g5,Bg2,gxh6,gxh6,Nf6+,Kg7,Nxd7,Bc6,Nc5,Bd5,Nd7,Bc4,Nf6,Kf7,Kg4,Ke7', 'Ng8+,Kf7,Nxh6+,Kg7,Kg5,Ba2,Ng4', 'https://lichess.org/training/KIzbZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kj27w', 'Rapid', 'IvoChotovich', 996, 'KarateChicken100', 819, 'd4,Nf6,d5,h6,g3,c6,Bg2,cxd5,c4,dxc4,Nc3,b5,Nd5,e6', 'Nxf6+,Qxf6,Bxa8', 'https://lichess.org/training/Kj27w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KJ38M', 'Rapid', 'marmat2', 1774, 'victor42', 2062, 'e4,e6,Ne2,f5,d4,fxe4,Nf4,Nf6,Be2,d5,O-O,Bd6,Nc3,Bxf4,Bxf4,O-O,Nb5,Na6,c3,c6,Nd6,Nc7,Be5,Nce8,Nxc8,Rxc8,Qa4,a6,c4,Qe7,b4,dxc4,Qa5,b5,Qxa6,Nd7', 'Qxc8,Nxe5,dxe5,Nc7,Qb7', 'https://lichess.org/training/KJ38M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KJ4tI', 'Rapid', 'acholini', 2096, 'Rookie1243', 2237, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,Nf3,a6,Qe2,b5,Bb3,Nge7,Bf4,Ng6,Bg3,Be7,O-O,O-O,Rfd1,Na5,Rac1,Nxb3,axb3,Bb7,h3,Rc8,Nh2,Bc6,Ng4,Qb6,Ne5,Nxe5,Bxe5,Rfd8,Qg4,f6,Bg3,e5,Nd5,Bxd5,Rxc8,Rxc8,Qxd7,Qe6,Rxd5,Qxd7,Rxd7,Kf7,f4,exf4,Bxf4,Ke6,Ra7', 'Bc5+,Kf1,Bxa7', 'https://lichess.org/training/KJ4tI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KJ6og', 'Rapid', 'marsplanet', 1688, 'Ed123456', 1628, 'd4,d5,c4,dxc4,e3,b5,a4,a6,axb5,Bd7,Bxc4,Nf6,bxa6,e6,a7,Nc6,d5,exd5,Bxd5,Nxd5,Qxd5,Nxa7,Nf3,Bd6,O-O,O-O,Nc3,Bc6,Qd4,Nb5,Nxb5,Rxa1,Nxd6,Qxd6,Ne5,Re8', 'Qxd6,cxd6,Nxc6', 'https://lichess.org/training/KJ6og');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kJ72K', 'Rapid', 'jetler', 2293, 'Tovmas1982', 2117, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,c3,d5,exd5,Nxd5,O-O,Bc5,Nd2,Nxd4,cxd4,Bxd4', 'Qa4+,Bd7,Qxd4', 'https://lichess.org/training/kJ72K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kJ7fW', 'Rapid', 'vddd', 2053, 'QueenofChess3', 2065, 'e4,c5,Nf3,Nc6,Bb5,e6,O-O,a6,Bxc6,bxc6,d4,cxd4,Nxd4,Bc5,Nb3,Bb6,a4,d5,a5,Bc7,exd5,cxd5,Qg4,g6,Bg5,Nf6,Qh4,Be5,Nc3,h6,Bxh6,Ng8,Qxd8+,Kxd8,Be3,Bxh2+,Kh1,Nf6,g3,Bxg3+,Kg2,Bd6,Bg5,Be7,Rad1,Bb7,f3,Rh5,Bxf6,Bxf6,Nd4,Ke7,f4,Rah8,Kf3,Rh3+,Ke2,Rh2+,Rf2,R2h5,Rd3,e5,fxe5,Rxe5+,Re3,Rxe3+,Kxe3,Rh4,Nce2,Re4+,Kd3,Bg5,c3,Bc8,Nc6+,Kd6,Ned4,Bd7,Nb8,Re3+,Kc2,Be6,Nxa6,f5,Nb4,Rh3,Re2,Bf7,a6,Rh8,a7,Ra8,Nb5+,Kc5,Rg2,Kxb5,Rxg5,Rxa7,Rg1,Rc7,Rd1,g5,Kd3,f4,Kd4,Rc4+,Ke5,Re4+,Kf5,g4,Kxg4,Kc4,Kf3', 'Bh5+,Kf2,Bxd1', 'https://lichess.org/training/kJ7fW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kjal2', 'Rapid', 'Pitsirdelis', 2173, 'knappyrootz', 2193, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Nd5,Nf3,Bd6,O-O,O-O,Nc3,Be6,Ne4,Bc7,Nc5,Bc8,Re1,f6,Bf1,Bb6,Nb3,Nb7,d3,Bg4,Be2,Nf4,Bxf4,exf4,Qd2,g5,Qc3,Qd7,Nfd4,Rad8,Bxg4,Qxg4,Qxc6,Rd7,Qe6+,Qxe6,Nxe6,Rff7,c3,Nd8,Nxd8,Rxd8,d4,Kf8,Re6,Re8,Rae1,Rfe7,Rxf6+', 'Kg7,Rxe7+,Rxe7,Kf1,Kxf6', 'https://lichess.org/training/kjal2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kjc53', 'Rapid', 'Anipsitakis', 1949, 'nerlsz', 2019, 'd4,Nf6,c4,g6,e3,d5,Nf3,e6,a3,c5,Nc3,dxc4,Bxc4,Nc6,O-O,cxd4,exd4,Bg7,Bg5,Qb6,Na4,Qc7,Rc1,O-O,Ne5,Bd7,Nc5,Nxe5,Nxe6,Bxe6,Bxe6,Qd6,dxe5,Qxe6,exf6,Bxf6,Re1,Qf5,Bh6,Rfd8,Qc2,Qh5,Bf4,Rac8,Qb3,Rxc1,Bxc1,Qa5,Rd1,Re8,h3,Re1+,Kh2,Rxd1,Qxd1,Qb6,Qe2', 'Qc7+,g3,Qxc1', 'https://lichess.org/training/kjc53');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kjCGJ', 'Classical', 'FENER14', 1854, 'Oossam', 1609, 'e4,e5,d4,exd4,Bc4,Bc5,Nf3,Nc6,O-O,Nf6,e5,d5,exf6,dxc4,fxg7,Rg8,Bg5,Qd6,Re1+,Be6,Bf6,Kd7,Ng5,Bf5,Nd2,Qxf6,Nge4,Qe5,Nxc4,Qxg7,Nxc5+,Kc8,Qf3,Be6,Nxe6,fxe6,Rxe6,d3,Qh3,Qd7,cxd3,Nd4,Rh6,Qxh3,Rxh3,Rg7,Re1,Kd7,Rh4', 'Nf3+,Kf1,Nxh4', 'https://lichess.org/training/kjCGJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KJiNq', 'Rapid', 'KNBvsBeer', 2033, 'kimdanger', 2047, 'e4,d5,exd5,Qxd5,Nf3,Qd8,d4,Nf6,c4,c6,Nc3,e6,Be2,Bb4,O-O,Bxc3,bxc3,h6,Ba3,Qa5,Bb4,Qc7,a4,a5,Ba3,b6,Rb1,c5,dxc5,bxc5,Rb5,Na6,Nd2,Bd7,Bf3,Rb8,Rxb8+,Qxb8,Nb3', 'Bxa4,Bc6+,Bxc6,Nxc5,Nxc5', 'https://lichess.org/training/KJiNq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KjJKK', 'Rapid', 'SophiaMartinez', 1869, 'Mazaness-Hacker', 1804, 'e4,e6,Bc4,d5,exd5,exd5,Be2,Nf6,Nf3,Bc5,d4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Nc3,Bf5,O-O,Ne4,Nxe4,Bxe4,Bd3,Bxf3,gxf3,Qf6,Kg2,Nc6,Rg1,Nxd4,Qc3,Nxf3', 'Qxf6,gxf6,Kxf3+', 'https://lichess.org/training/KjJKK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kjk6A', 'Rapid', 'midajoh123', 1668, 'RefsWatch', 1881, 'd4,c5,dxc5,e6,Nf3,Bxc5,b3,Nf6,Bb2,Nc6,a3,d5,e3,O-O,Bd3,Re8,O-O,e5,Bb5,Bg4,Be2,Qe7,Nbd2,Rad8,Ne1,Bxe2,Qxe2,d4,exd4,Nxd4,Bxd4,Bxd4,Rb1,Qxa3,Nc4,Qb4,Nf3,b5,Ncd2,Bc3,Rbd1,e4,Nxe4,Rxd1', 'Nxf6+,Bxf6,Qxe8+,Qf8,Qxf8+,Kxf8,Rxd1', 'https://lichess.org/training/kjk6A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KjlLO', 'Rapid', 'kent_4', 1845, 'dennisrader', 1833, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,h6,d4,exd4,Nxd4,Bb4,Nxc6,dxc6,Qxd8+,Kxd8,Bd2,Be6,a3', 'Bxc3,Bxc3,Bxc4', 'https://lichess.org/training/KjlLO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kjLTE', 'Blitz', 'cirjanovidiu', 1806, 'tog3pi', 1825, 'e4,e5,Bc4,Nf6,d3,Nc6,a3,Bc5,Ne2,Ng4,O-O,Qh4,h3,Nxf2,Rxf2,Bxf2+,Kh2,d6,Nd2,Nd4,Nxd4,Bxh3,gxh3', 'Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/kjLTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kJm5H', 'Rapid', 'Sergiolakks', 1800, 'sergmuratov', 1894, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Nbd7,O-O,e5,d5,Nc5,Qc2,a5,h3,Nh5,a3,f5,b4,axb4,Bg5,Qe8,axb4,Rxa1,Rxa1,fxe4,bxc5,exf3,Bxf3,Bf5,Be4,Bxe4,Nxe4,h6,Be3,Nf6,Ra7,Nxe4,Qxe4,Qb8,cxd6,cxd6,Qg4,g5,Qd7,Rf7,Qe6,Kf8,h4,gxh4,Ra3,Re7,Qh3,Qc7,Qxh4,Qc8,Bxh6,Bxh6,Qxh6+,Ke8,Qxd6,Qxc4,Qg6+,Kd7,Qf5+,Kd6,Qf6+,Kd7,d6,Qc1+,Kh2,Rh7+,Rh3,Qf4+,Qxf4,Rxh3+,gxh3', 'exf4,h4,Kxd6', 'https://lichess.org/training/kJm5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kjNk0', 'Rapid', 'sasha-zlodorev', 1741, 'Yassen7', 1709, 'e4,e5,f4,exf4,d4,Qh4+,Ke2,d6,Nf3,Bg4,Qd2,Bxf3+,gxf3,g5,Qb4,b6,Nc3,Ne7,Nd5,Nbc6,Nf6+,Kd8,Qc4,Bg7,Nd5,Nxd5', 'Qxc6,Rc8,Qxd5', 'https://lichess.org/training/kjNk0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KjOpv', 'Classical', 'Mikzarva', 1749, 'Zara90', 1762, 'e3,Nc6,b3,b6,Nf3,Bb7,Be2,f5,O-O,Nf6,d4,e6,Ne5,Be7,Nxc6,Bxc6,Bf3,Bxf3,Qxf3,O-O,Bb2,d6,c4,c6,Qxc6,Rc8,Qb7,Rc7,Qa6,Qb8,Nc3,Rd7,c5,dxc5,dxc5,Bxc5,Na4,Be7,Qc4,Nd5,Nc3,Bf6,Rab1,Rfd8,Nxd5,exd5,Qe2,d4,Qc4+,Kh8,exd4,Bxd4,Bxd4,Rxd4,Qe6,g6,Rbc1,R8d6', 'Rc8+,Qxc8,Qxc8+', 'https://lichess.org/training/KjOpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kJP71', 'Blitz', 'faithofthepieces', 1706, 'Pappo10', 1721, 'd4,e6,c4,Nf6,Nc3,Be7,e4,O-O,Nf3,Nc6,Bd3,b6,e5,Ne8,d5,exd5,cxd5,Na5,d6,cxd6,exd6,Nxd6,O-O,Bb7,Re1,Rc8,Rxe7,Qxe7,Bxh7+,Kh8,Ng5,g6,Bxg6,fxg6,Qd4+,Qf6', 'Qh4+,Kg7,Qh7#', 'https://lichess.org/training/kJP71');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kjPWQ', 'Rapid', 'boriscretu', 1738, 'Tomas_Reks', 1721, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,Nxd4,Ng5,d5,Bxd5,Be6,Bxe6,Nxe6,Qf3,Nxg5,Qf5,Qf6,Bxg5,Qxf5,exf5,Nf6,O-O,O-O-O,Nc3,h6,Bxf6,gxf6,Ne4,Be7,Rad1,Rhg8,f4,Rg4,Rxd8+,Kxd8,h3,Rxf4,Rxf4,exf4,Kf2,Kd7,Kf3,Kc6,c3,Kd5,Kxf4,Bd6+,Kf3,Ke5,g4,b6,b4,a5,a3,axb4,axb4,c5,bxc5,Bxc5,Nd2,b5,Ne4,Ba3,Nf2,Kd5,Ke3', 'Bc5+,Kf3,Bxf2,Kxf2,Kc4', 'https://lichess.org/training/kjPWQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kJQo2', 'Blitz', 'miguelsimoes', 2302, 'IM samisahi', 2639, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,g6,c3,Bg7,d4,O-O,Be3,d5,exd5,Qxd5,Bb3,Qd8,dxe5,Nxe5,Nxe5,Bxe5,Nd2,Nf5,Qe2,Nxe3,Qxe3,Re8,Qf3,Qf6,Qxf6,Bxf6,Rfe1,Bd7,Nf3,Bc6,Nd4,Bxd4,cxd4,Kf8,f3,Rad8,Rxe8+,Rxe8,Kf2,g5,Rd1,Bb5,Rd2,h6,Bc2,Kg7,g4,b6,d5,a5,a4,Bc4,b3,Ba6,Bd3,Bb7,Bc4,Rd8,Ke3,Kf6,Rd4,Ke5,Re4+,Kd6,Kd4,c5+,dxc6,Bxc6,Re3,Rd7,Bb5,Bxb5,axb5,Rc7,Re5,Rc2,Rd5+,Ke6,Re5+,Kd6,Rd5+,Ke6,Re5+,Kf6,Rf5+,Kg7,Kd5,Rc3,Kd6,Rxb3,Kc6,a4,Kxb6', 'a3,Re5,a2,Re1,Rb1', 'https://lichess.org/training/kJQo2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kJt6d', 'Rapid', 'Willempostma1988', 1662, 'vx9mcz', 1811, 'd4,d5,c4,dxc4,e4,e6,Bxc4,b6,Nf3,Bb7,d5,Nf6,O-O,exd5,exd5,Bxd5,Bxd5,Qxd5,Re1+,Be7,Qe2,Nc6,Bg5,Qf5,Rc1,Qe6', 'Qxe6,fxe6,Rxc6', 'https://lichess.org/training/kJt6d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KJupz', 'Rapid', 'mahmoodniazmand', 1716, 'jpdoc89', 2077, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,c6,Nf3,Bd6,b3,O-O,Bd3,Re8+,Ne2,dxc4,Bxc4,Bb4+,Bd2,Bxd2+,Qxd2,Bg4,Ne5,Bxe2', 'Bxf7+,Kf8,Bxe8', 'https://lichess.org/training/KJupz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KJvcO', 'Blitz', 'Letsdoit1', 2488, 'NM Pernambuquinho', 2474, 'd4,c5,d5,d6,e4,Nf6,Nc3,g6,Nf3,Bg7,Be2,O-O,O-O,e5,Nd2,a6,a4,Ne8,Nc4,f5,f4,Nd7,Kh1,Rb8,a5,b5,axb6,Nxb6,Na5,Bb7,Nxb7,Rxb7,Rxa6,Rbf7,exf5,Rxf5,Bg4,R5f6,Be6+,Kh8,Ne4,Rxf4,Bxf4,exf4,c3,Nc4,Qe2,Ne5,Ra7,f3,gxf3,Nc7,f4,Nf7,Qg4,Nh6,Qh3,Qb8,Ra2,Qb3,Ra7,Qb6,Raa1,Qxb2,Rae1,Qc2,Nxd6,Qd2,Ne4,Qc2,d6,Nxe6,Qxe6,Nf5,d7,Qd3,Qe8,Ne3,Rxe3', 'Qxf1#', 'https://lichess.org/training/KJvcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kJvFf', 'Rapid', 'igor444', 1950, 'Matteo07moster', 1620, 'g3,d5,Bg2,Nf6,Nc3,e6,e3,c5,Nf3,Nc6,O-O,Bd6,d4,b6,dxc5,bxc5,Re1,Bb7,e4,dxe4,Nxe4,Nxe4,Rxe4,Ne5,Re3,Nc4,Rd3,Be4,Rc3,Nb6,Ne1,Bxg2,Nxg2,Nd5,Rd3,c4,Rd2,O-O,Ne3,c3,Rd3,Be5,bxc3,Bxc3,Rb1,Qa5,Nxd5,exd5,Rxd5,Qxa2,Rb3,Bf6,Rbd3,Qa4,Be3,Qc6,Bc5,Rfe8,c3,a5,Qb3,a4,Qa2,Bxc3,Rxc3,Re1+,Kg2,Rd1,Be3', 'Qxd5+,Qxd5,Rxd5', 'https://lichess.org/training/kJvFf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KJW5a', 'Classical', 'aryavolkan', 1796, 'sidorovvf777', 1763, 'g4,d5,Bg2,e5,c4,e4,cxd5,Qxd5,Nc3,Qg5,Qa4+,Nc6,Qxe4+,Nge7,h3,h5,Nf3,Qa5,a3,hxg4,hxg4,Rxh1+,Bxh1,g6,Rb1,Be6,b4,Qb6,Na4,Qb5,Nc3,Qb6,Na4,Qb5,Nc5,O-O-O,Nxe6,fxe6,Qxe6+,Kb8,d3,a5,Bf4,axb4,axb4,Nxb4,Qb3,Ned5,Nd4,Qb6,Bxd5,Rxd5,Qxd5,Nxd3+,Kd2,Qxb1,exd3,Bb4+,Ke3,Qe1+,Ne2,Bd2+,Kf3', 'Qh1+,Kg3,Qxd5', 'https://lichess.org/training/KJW5a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kjwrT', 'Rapid', 'NouriMehr', 1923, 'layen100', 1756, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Bc4,Nxf3+,Qxf3,Qf6,Qg3,h6,d4,d6,c3,exd4,Nd2,dxc3,bxc3,Be6,O-O,Bxc4,Nxc4,Ne7,f4,Nc6,Ba3,Be7,Rad1,O-O,f5,Qg5,Qd3,Bf6,Rf3,b5,Nd2,Ne5,Qe2,Nxf3+,Nxf3,Qh5,Qxb5,Bxc3,h3,Be5,Qc4,c5,Rd5,Bg3,Bc1,Rab8,Qc2,Rb6,f6,Qg6,fxg7,Qxg7,e5,dxe5,Qxc5,Rb1,Rd6,Bf4,Rd1,Rfb8,Nd2,R1b5,Qc3,R5b6,Nb3,Rg6,Qc2,Bxc1,Rxc1,Rb4,Nc5,Rf4,Nd7,e4', 'Qc8+,Kh7,Nf8+,Qxf8,Qxf8', 'https://lichess.org/training/kjwrT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kjXDr', 'Blitz', 'emmayala', 1904, 'izzyreal44', 1646, 'e4,e5,Nf3,d6,Bc4,Bg4,d4,Nd7,Nc3,exd4,Qxd4,Bxf3,gxf3,Ngf6,Nd5,Be7,Bg5,O-O,h4,Nxd5,Bxd5,Bxg5,hxg5,c5,Qe3,Qa5+,c3,Nb6,Bb3,d5,f4,dxe4,g6,h6,f5,c4,Rxh6,cxb3', 'Rh8+,Kxh8,Qh3+,Kg8,Qh7#', 'https://lichess.org/training/kjXDr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KjXMc', 'Rapid', 'Crumpet2021', 1892, 'Ufuk2', 1879, 'd4,c5,c3,cxd4,cxd4,d5,Nc3,Nc6,Nf3,Nf6,Bf4,Bg4,Ne5,Nxe5,Bxe5,e6,Nb5,Bb4+,Nc3,Ne4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/KjXMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kjxoZ', 'Rapid', 'Dendrimer', 1722, 'ET1000', 1747, 'f4,d5,Nf3,Nc6,d4,Bf5,e3,Nf6,Bd3,Bxd3,Qxd3,e6,c3,Be7,O-O,O-O,Ne5,Nxe5,fxe5,Ne4,Nd2,Nxd2,Bxd2,c5,Qe2,c4,Qg4,Bg5,Rad1,Bh6,e4,Bxd2,Rxd2,h6,Rf3,Qg5,Qxg5,hxg5,exd5,exd5,Rg3,f6,Re2,Rae8,e6,Re7,b3,b5,Rge3,a5,g4,a4,b4,g6,Kg2,Kg7,Kg3,f5,Re5,f4+,Kf3,Rh8,Rxd5,Rh3+,Kg2,Rxc3,Rxb5', 'f3+,Kf2,fxe2', 'https://lichess.org/training/kjxoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KJyXx', 'Classical', 'IIsinkillsII', 1795, 'kvv77708', 1922, 'e4,c6,f4,d5,exd5,cxd5,Nf3,Bg4,d3,Nc6,Nbd2,Qc7,h3,Bxf3,Nxf3,Nf6,g3,e5,fxe5,Nxe5,Nd4,Be7,Bf4,Bd6,Nb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/KJyXx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kJz69', 'Blitz', 'FM GCamachoMartinez', 2407, 'Shanghaiblues', 2301, 'd4,e6,e4,b6,Nf3,Bb7,Bd3,c5,c3,Nf6,Nbd2,Nc6,a3,Be7,O-O,d5,e5,Nd7,Re1,Qc7,Nf1,h6,b4,c4,Bc2,O-O-O,a4,Kb8,N1d2,Rdg8,Nb1,Nd8,Na3,a6,b5,a5,Nd2,f5,Qe2,g5,Naxc4,dxc4,Qxc4,Qxc4,Nxc4,Nf7,Nd2,Rd8,Bb3,Nf8,Nc4,Ka7,Bb2,g4,Nd2,Bg5,Nf1,f4,c4,Rg8,Rad1,h5,d5,h4,Ba3,g3,hxg3,fxg3,fxg3,hxg3,Ne3,Bf4,Bb2,Ng5,Nc2,Ng6,Nd4,exd5,cxd5,Bxd5', 'Bxd5,Rxd5,Nc6+,Kb7,Rxd5', 'https://lichess.org/training/kJz69');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kk28u', 'Rapid', 'berd-il', 1912, 'olegus41', 1935, 'e4,e5,Nf3,Nc6,Nc3,Nf6,h3,Bc5,Bc4,h6,a3,a6,O-O,O-O,d3,d6,Nd5,Nd4,Nxd4,Bxd4,c3,Bc5,b4,Ba7,Kh1,c6,Ne3,d5,exd5,cxd5,Bb3,b5,Qf3,Be6,Rb1,Rc8,Bd2,Re8,Nf5,Kh7,Ng3,Qd7,Rfd1,Bxh3,gxh3,Qxh3+,Kg1,Ng4,Qf5+,Kg8,Bxd5,Bxf2+,Qxf2,Nxf2,Kxf2,Qh2+,Bg2,Qh4,Rh1,Qf6+,Ke2,Rcd8,Ne4,Qg6,Rbg1,f5,Bf3,Qb6,Nc5,Kh7,Kd1,e4,dxe4,fxe4,Bxe4+,Kh8,Kc2,Qd6,Be3,Qe5,Bd4,Rxd4,cxd4,Qd6,Kc3,Rd8,Rd1,Qg3+,Kb2,Qe3,d5,Rf8,Rh2,a5,Rd3,Qg1,Rhd2,axb4,axb4,Ra8,Kb3,Qb1+,Rb2,Qe1,d6,Rd8,d7,Qh4,Nb7', 'Qxe4,Rbd2,Qxb7', 'https://lichess.org/training/kk28u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kk2ho', 'Blitz', 'aleksandr040', 1850, 'bublikov', 1591, 'e4,e6,Bc4,d6,Nc3,Nd7,d3,Be7,Nge2,Ngf6,O-O,O-O,Ng3,a6,a3,b5,Ba2,Bb7,f4,e5,f5,c5,Nh5,Bc6,Nxf6+,Nxf6,Bg5,a5,Bxf6,Bxf6,Nd5,b4,Nxf6+,gxf6,Qh5,Kh8,Rf3,Rg8,Bxf7,Rg7,Be6,d5,exd5,Bxd5,Bxd5,Qxd5,Raf1,Rag8,g3,e4,dxe4,Qxe4,Rf4', 'Rxg3+,hxg3,Rxg3+,Kh2,Qg2#', 'https://lichess.org/training/Kk2ho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kk43Y', 'Rapid', 'Saimon0072', 1754, 'Nomomendut', 1775, 'e4,e6,d4,d5,e5,c5,c4,Qb6,cxd5,exd5,Qa4+,Bd7,Bb5,cxd4,Bxd7+,Nxd7,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,Ne7,O-O,Nf5,g4,Ne3,fxe3,dxe3,Ng5,exd2+,Kh1,Qxb2,Nxf7,O-O,Qxd7,Rad8,Nh6+,gxh6,Rxf8+,Rxf8,Qxd5+,Kg7,Rd1,Qc2,Qxd2', 'Rf1+,Rxf1,Qxd2', 'https://lichess.org/training/Kk43Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kk5HR', 'Rapid', 'Abbasov-Mais', 2178, 'Kobracan', 2193, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bd3,Bg4,O-O,Bxf3,Qxf3,Nxd4,Qg4,Nc6,c3,Nf6,Qh4,e6,Bg5,Be7,Nd2,h6,Bxf6,Bxf6,Qa4,O-O,Nf3,Ne5,Be2,Nxf3+,Bxf3,Qc7,Qg4,Qe5,Be2,Qg5,Qf3,Be5,Bd3,Qf4,Qh3,Rac8,g3,Qd2,Rad1,Qxb2,f4,Bxc3,f5,e5,f6,e4,Qg4,exd3', 'Qxg7#', 'https://lichess.org/training/kk5HR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kk5Xk', 'Rapid', 'jorquerov', 2181, 'nafis1965', 2012, 'e4,c5,Nf3,d6,c3,Bg4,d4,cxd4,cxd4,e6,Nc3,d5,e5,Bb4,Bd3,h6,O-O,Ne7,a3,Ba5,Nb5,O-O,Nd6,Qc7,Be3,Nbc6,Rc1,a6,b4,Bb6,Bb1,Rad8,h3,Bh5,g4,Bg6,Bc2,Bxc2,Rxc2,Rxd6,exd6,Qxd6,Qd2,Ng6,Nh2,Bc7,f4,Nh4,Nf3,Nxf3+,Rxf3,f5,Qg2,Bd8,gxf5,exf5,Qg3,Bf6,Rg2,Nxd4,Bxd4,Bxd4+,Kh2,Rc8,Qg6,Qxg6,Rxg6,Rc2+,Kg3,Rc1,Rd6,Rg1+,Kh2,Rd1,Rd7,b5,Rg3,Bf6,Re3,d4,Rg3,h5,Rd6,Kh7,Rxa6,h4,Rg2,Rf1,Rb6,Rxf4,Rxb5,Rf3,a4,d3,Rd5,Re3,Rxf5,Be5+,Kh1,Bg3,Rf1,Bd6,b5', 'Rxh3+,Kg1,Bc5+', 'https://lichess.org/training/Kk5Xk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KK7j5', 'Blitz', 'felfla', 2044, 'Glinka_Daniil', 1980, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,h3,e6,Bf4,Bd6,Bxd6,Qxd6,Nf3,O-O,O-O,Rb8,Qe2,a6,Nbd2,b5,a3,Bd7,Ne5,Rfc8,f4,Be8,g4,Na5,g5,Nd7,Qh5,g6,Qh6,Qf8,Qh4,Nc4,Bxc4,bxc4,Rab1,h5,gxh6,Kh7,Ng4,Rb7,Nf3,Rcb8,Ng5+,Kh8,Rf2,Rb3,Ne5,Rxc3,h7,Rxa3,Rg2,c3,bxa3,Rxb1+,Kh2,Rb2,Rxb2,cxb2,Qf2,Nxe5,fxe5,b1=Q,Nxe6,Qxa3', 'Qf6+,Kxh7,Qg7#', 'https://lichess.org/training/KK7j5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kk7yv', 'Rapid', 'stanley1809', 2109, 'normangheb', 2079, 'e4,Nf6,e5,Nd5,c4,Nb6,Nf3,Nc6,g3,d6,exd6,cxd6,b3,Bg4,Be2,e5,O-O,Be7,Bb2,h5,d4,e4,Nfd2,f5,d5,Ne5,f3,exf3,Nxf3,Bf6,Nxe5,dxe5,Bxg4,fxg4,Qd3,Rh6,Nd2,Qd6,Ne4,Qe7,Rae1,O-O-O,Qe3,Kb8,Nxf6,Rxf6,Rxf6,gxf6,Qh6,Qc5+,Kg2,Nxd5,cxd5,Qc2+,Kf1,Qxb2,Qxf6,Qxh2', 'Qxd8#', 'https://lichess.org/training/kk7yv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kK9jk', 'Blitz', 'mouraleao', 1571, 'Almver', 1593, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,Bf5,a3,c6,Bg5,Be7,Be2,O-O,h3,Nbd7,Nf3,Qc7,O-O,dxc4,Bxc4,Bd6,Re1,Rfe8,Bxf6,Nxf6,Ne5,Bxe5,dxe5,Rxe5,Qb3,Rxe1+,Rxe1,Bg6,f3,Qg3,Re7,Rf8,Qxb7,Nh5,Ne4,Qe1+,Kh2,Bxe4,Rxe4,Qg3+,Kg1,Nf4', 'Qxf7+,Rxf7,Re8#', 'https://lichess.org/training/kK9jk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KKB5K', 'Classical', 'neppils', 1610, 'MRNMRN', 1680, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Bc5,b4,Bxb4,Bb2,d6,Bb5,Bd7,d4,Nge7,dxe5,O-O,exd6,Bxd6,c4,a6,Bxc6,Bxc6,Qd4,f6,Re1,Ng6,Nc3,Be5,Qxd8,Raxd8,Nxe5,Nxe5,Nd5,Nxc4,Ne7+,Kf7,Nxc6,bxc6,Bc3,Rd3,Rac1,Rfd8,Bxf6,Kxf6,Rxc4,Rd1,Rxc6+,Kf7,Rxc7+,Kg8,Kf1,Rxe1+,Kxe1,Rd6,Ke2,Rd4,Ke3,Ra4,Rc2,Kf7,f4,Ke6,g4,g6,Rc6+,Kf7,h4,Rxa2,Kd4,a5,Ke5,a4,Rc7+,Kg8,Kf6,g5,fxg5,Rf2+,Kg6,hxg5,Kxg5,a3,Rc1,a2,Ra1,Kg7,h5,Rb2,e5,Re2,Kf5,Kf7,h6,Rf2+,Kg5,Ke6,Kg6,Kxe5,Kg7,Rg2,Kh7,Kf4,Kg8,Rxg4+,Kf7,Rh4,Kg6,Rh2,Rc1,Ke4,h7,Kd3,Ra1,Kc3', 'Rxa2,Rxa2,h8=Q+', 'https://lichess.org/training/KKB5K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kKBle', 'Rapid', 'Rasiklal', 1779, 'gnpleite', 1772, 'd4,d5,h3,e6,Bf4,Nf6,e3,Nbd7,c3,c5,dxc5,Bxc5,Nf3,O-O,Nbd2,Re8,Be2,b6,Nb3,Be7,Ne5,Nxe5,Bxe5,Bb7,Nd4,Ne4,O-O,Rc8,Bh5,Nf6,Be2,Bd6,Bxd6,Qxd6,Qc2,e5,Nf5,Qc6,Bf3,Qd7,Rad1,e4,Bg4,h5', 'Nh6+,gxh6,Bxd7', 'https://lichess.org/training/kKBle');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kkbNF', 'Rapid', 'chuifoutu', 1921, 'malagihay', 1844, 'Nc3,g6,e4,d6,d4,Bg7,Be3,Nd7,Qd2,c6,a3,e5,Nf3,exd4,Bxd4,Bxd4,Nxd4,Ngf6,O-O-O,O-O,h4,Ne5,h5,Nxh5,Rxh5,gxh5,Kb1,Qf6,f3,Be6,Be2,Rfd8,Rh1,h4,Nd1,d5,Qe1,dxe4,Nxe6,fxe6,Rxh4,exf3,gxf3,Rd7,Ne3,Nxf3,Qg3+,Ng5,Ng4,Qd8,Qe5,Rg7,Bd3,Qe7,Nf6+,Kf8,Rf4,Nf7,Nxh7+,Kg8,Nf6+,Kf8,Qh5,Rd8,Ne4,Kg8,Rh4,Rxd3,cxd3,Kf8,Rf4,Kg8,Rg4,Rxg4,Qxg4+,Kf8,Qf4,Ke8,Qb8+,Nd8,Qxa7,Qc7,Qc5,Qe7,Nd6+,Kf8,Qe5,Nf7,Nxf7,Qxf7,Qh8+,Qg8,Qxg8+,Kxg8,Kc2,Kf7,Kc3,Ke7,Kd4,Kd6,a4,b6', 'b4,b5,a5', 'https://lichess.org/training/kkbNF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KKEHA', 'Rapid', 'misozezelj', 1965, 'ilyavlpot', 1943, 'd4,d5,c4,dxc4,e3,e6,Bxc4,Bd6,Nf3,Ne7,Nc3,c6,e4,b5,Bd3,Ng6,O-O,Qc7,e5,Be7,a3,Bb7,b4,O-O,Bb2,a5,bxa5,Rxa5,Ne4,Nd7,g3,c5,dxc5,Nxc5,Nxc5,Qxc5,Qe2,Bxf3,Qxf3,Nxe5,Bxe5,Qxe5,Rfb1,Bf6,Ra2,b4,Rxb4,Be7,Rb3,Rfa8,Bc4,g6,Re2,Qa1+,Kg2,Rxa3,Rxa3,Qxa3,Re3,Qa7,Qe4,Bc5,Rf3,Rf8,h4,Bd4,h5,Bg7,hxg6,hxg6,Rb3,Qd4,Qxd4,Bxd4,f4,Kg7,Kf3,e5,fxe5,Bxe5,g4,g5,Rb7,Kg6,Ke4,f6,Be6,Rd8', 'Bf5+,Kh6,Rh7#', 'https://lichess.org/training/KKEHA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KkfQS', 'Classical', 'Arguto84', 1734, 'd_mobasser', 1827, 'e4,e5,Bc4,Nf6,d3,Nc6,Nf3,Bc5,Ng5,O-O,h3,h6,Nf3,Re8,a3,Nd4,Nxd4,Bxd4,c3,Bb6,Qb3,Qe7,Nd2,c6,Nf3,d5,exd5,cxd5,Bb5,Rf8,O-O,e4,dxe4,dxe4,Ne1,Nh5,c4,Be6,Be3,Ba5,Nc2,Rac8,Nd4,Bb6,Qc2,Nf6,Rad1,Nd5,Nxe6,Qxe6,Rxd5', 'Qxd5,cxd5,Rxc2', 'https://lichess.org/training/KkfQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kkGku', 'Rapid', 'corisella', 1884, 'carbello', 1877, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,Nc3,O-O,Bxc6,dxc6,d4,exd4,Na4,Qe7,Nxc5,Qxc5,e5,Nd5,Nxd4,Be6,Kh1,Rfd8,f4,Nxf4,Rxf4,Qxe5,c3,c5,Qg1,cxd4,cxd4,Qb5,a4,Qb4', 'd5,Qd6,dxe6', 'https://lichess.org/training/kkGku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KkIy9', 'Blitz', 'omar_z06', 1855, 'daarian', 1750, 'd4,d5,c4,c6,Nc3,e6,Nf3,Bd6,Bg5,Nf6,e3,Nbd7,Bd3,e5,dxe5,Nxe5,cxd5,Nxf3+,Qxf3,h5,dxc6,Qe7,Nd5,Qe5,Nxf6+,gxf6,Qxf6,Bb4+,Kf1,Qxf6,Bxf6,Rh6,Bg5,Rd6,Bb5,bxc6,Bc4,Rd2,b3,Bf5,e4,Bxe4,Bxd2,Bxd2,f3,Bg6,Kf2,O-O-O,a4,Bc3,Rad1,Bd4+,Kg3,c5,h3,h4+,Kxh4,Bf2+,Kg4,Rg8,Kf4,Bc2,Rd2', 'Bg3+,Ke3,Re8+,Be6+,Rxe6#', 'https://lichess.org/training/KkIy9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kKLdZ', 'Classical', 'Tschudar', 1751, 'Daan-Mulder', 2151, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,Nge7,Bb5,O-O,O-O,Bb6,Bxc6,Nxc6,Nxc6,Qxc6,Bxb6,Qxb6,b4,d6,a4,Be6,a5,Qc6,Qa4,Qxe4,Nd2,Qd3,Rfd1,Qxc3,Rac1,Qf6,Rxc7,Qg6,b5,Rac8,Rxb7,Bd5,f3,Bxb7,b6,axb6,axb6,Qc2,Qxc2,Rxc2,Ne4,Rb2,Rxd6,Rc8,h3,Kf8,Ng5,h6,Ne4,Ke7,Rd1,Rxb6,g4,Rb2,Nd6,Rcc2,Nf5+,Kf6,Rd6+,Kg5,h4+,Kf4,Rd4+,Ke5', 'f4+,Kf6,Rd6#', 'https://lichess.org/training/kKLdZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KklOA', 'Rapid', 'moe2410', 1616, 'HNKC8', 1726, 'c4,e5,e3,d5,a3,Nf6,b4,dxc4,Bxc4,Qd6,h3,Be6,Be2,e4,Nc3,Qe5,Bb2,Bd6,d4,Qg5,h4', 'Qxg2,Bf3,exf3', 'https://lichess.org/training/KklOA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kKmSm', 'Bullet', 'LanternOfDiogenes', 1795, 'alichuopanzade', 1769, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Nc6,Bc4,d5,Bxd5,Nf6,Bg5,Be7,Bxf6,Bxf6,Nf3,O-O,O-O,Bg4,Qb3,Bxf3,gxf3,Bxc3,Qxc3,Qg5+,Kh1,Ne5,Rg1,Qf4,Rg3,c6,Bb3,Rad8,Rag1,g6,Rg5,Nxf3', 'Rxg6+,hxg6,Rxg6+,Kh7,Qg7#', 'https://lichess.org/training/kKmSm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KkniL', 'Rapid', 'LyuteyevAleksandr89', 1961, 'ikar49', 1827, 'e4,f5,exf5,Nf6,Be2,h5,h4,d5,d4,c5,Bg5,cxd4,Bxf6,exf6,Bxh5+,Kd7,Bf3,Qe7+,Ne2,Nc6,Bxd5,Kc7,Bxc6,bxc6,Qxd4,Bxf5,Nc3,Qd6,O-O-O,Qxd4,Nxd4,Bd7,g3,Bc5,Rhe1,Rae8,a3', 'Rxe1,Rxe1,Bxd4', 'https://lichess.org/training/KkniL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KKNuX', 'Blitz', 'ali_sagaltici', 1720, 'Memosy', 1727, 'e4,c5,c3,d5,d4,cxd4,cxd4,dxe4,Nc3,Nf6,Bg5,h6,Bxf6,exf6,Nxe4,Bf5,Nc3,Bb4,Nf3,Qc7,Rc1,Nc6,a3,Ba5,b4,Bb6,Nd5,Qd8,Nxb6,Qxb6,Be2,O-O,O-O,Rad8,d5,Ne7,Bc4,Be4,Qe2,f5,Nd2,Nxd5,Nxe4,fxe4,Qxe4,Nf6,Qf5,Qd4,Ba2,Qg4,Qxg4,Nxg4,h3,Nf6,Rc7,Rd2,Bb3,Rb8,g3,Nd5,Bxd5,Rxd5,Kg2,Rd3,Ra1,a6,Rcc1,b5,h4,Rbd8,Kh3,Rd2,Rf1,R8d3,Kg4,Rb3,Rfe1,Rxf2,Re8+,Kh7,Ra8,Rf6,a4,bxa4,Rxa4,Rff3,R8xa6,Rxg3+,Kf4,Rbf3+,Ke4,Rb3,Kd4,Rg4+,Kc5,Rxh4,b5,Rxa4,Rxa4,Rc3+,Kb4,Rc8,b6,Rb8,Kb5,h5,Kc6,g5,Kc7,Rxb6,Kxb6,h4,Rg4,Kg6,Kc5,f5,Rg1,g4,Kd4,h3,Ke3,Kg5,Kf2,f4,Rf1,g3+,Kg1,Kg4,Rd1,h2+,Kg2', 'f3+,Kh1,Kh3,Rd2,g2+,Rxg2,fxg2#', 'https://lichess.org/training/KKNuX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KkNz9', 'Rapid', 'jorgemiranda30', 1793, 'GrandpaWorm', 1779, 'e4,Nf6,e5,Ng8,d4,d5,Nf3,Bg4,Be2,c6,O-O,e6,c4,c5,Nbd2,Nc6,h3,Bh5,g4,Bg6,cxd5,Qxd5,Bc4,Qd7,Nb3,Be4,Nxc5,Bxc5,dxc5', 'Qxd1,Rxd1,Bxf3', 'https://lichess.org/training/KkNz9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kko1l', 'Blitz', 'Tetyana512', 1954, 'rjml', 2072, 'd4,Nf6,Nf3,d5,e3,c5,Bd3,Nc6,c3,b6,Nbd2,Bb7,O-O,e6,Re1,Bd6,e4,dxe4,Nxe4,Nxe4,Bxe4,Qc7,d5,Ne7,dxe6,Bxe4,exf7+,Kxf7,Rxe4,Rhd8,Qe2,Ng6,Ng5+,Kg8,Be3,Bxh2+,Kh1,Bf4,Ne6,Qe7,Nxd8', 'Qh4+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/Kko1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KKomq', 'Rapid', 'KallyBoy03', 1917, 'Metlill', 1624, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Be7,e5,Ng4,Re1,d5,exd6,Qxd6,g3,O-O,Bf4,Qb4,b3,Bd6,a3,Qb6,Bxd6,cxd6,Ng5,Nge5,Bd5,h6,Nf3,Bg4,Bxc6,Qxc6', 'Nxe5,dxe5,Qxg4', 'https://lichess.org/training/KKomq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kkOPQ', 'Rapid', 'thales24', 1707, 'spinola01', 1678, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Be2,Ne7,O-O,O-O,Bg5,f6,Bh4,Ng6,Bg3,Bxg3,fxg3,Nc6,Nc3,Nce7,Ne1,c6,Nd3,Bf5,Nf4,Nxf4,gxf4,Ng6,Bg4,Qd7,Bxf5,Qxf5,Ne2,Rae8,Ng3,Qd7,c3,Re3,Qh5,Rfe8,Nf5,R3e4,Qg4,Re2', 'Nh6+,gxh6,Qxd7', 'https://lichess.org/training/kkOPQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KKPut', 'Blitz', 'Mortonchessplayer', 1745, 'WCM MrsOnate', 1683, 'd4,Nf6,e3,e6,Nf3,Bb4+,c3,Be7,Bd3,d5,O-O,O-O,Re1,c5,Bc2,Nc6,dxc5,Bxc5,Nbd2,b5,e4,dxe4,Nxe4,Nxe4,Bxe4,Bb7,Qc2,Qb6,Bxh7+,Kh8,Rf1,g6,Bxg6,fxg6,Qxg6,Ne7,Qh5+,Kg8,Bh6,Bxf3,gxf3,Rf7,Qg5+,Kh7,Qh5,Rg8+', 'Bg5+,Kg7,Qh6#', 'https://lichess.org/training/KKPut');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KKqQP', 'Rapid', 'yisustorres19', 1700, 'RGC156', 1742, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,Bc5,Bg5,h6,Bxf6,Qxf6,b4,Bb6,b5,Ne7,d4,exd4,cxd4,g5,e5,Qf5,Bd3,Qf4,h3,Bxd4,g3,Bxf2+,Kxf2,Qb4,Nbd2,Nd5,Rf1', 'Qc5+,Kg2,Ne3+,Kh2,Nxd1', 'https://lichess.org/training/KKqQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KKQVE', 'Blitz', 'NM Insterburg', 2299, 'CM HabibAmini', 2360, 'd4,d6,c4,Nf6,Nc3,g6,e4,Bg7,f4,O-O,Nf3,Bg4,Be2,Nfd7,Be3,Nc6,d5,Nb4,a3,Na6,O-O,Nac5,Nd2,Bxe2,Qxe2,a5,Rac1,a4,Rc2,e6,f5,exf5,exf5,Re8,Qf3,Ne5,Qh3,Ned7,Bf4,Bd4+,Kh1,g5,Qg3,f6,Nf3,Bxc3,bxc3,Ne4,Qg4,Qe7,Bc1,Qf7,Nd4,h5,Qf3,g4,Qf4,Re5,Ne6,Ndc5,Be3,Nxe6,fxe6,Qg6,Bd4,b6,Bxe5,dxe5,Qe3,f5,Re2,Ra5,g3,Rc5,Rxf5,Qxf5,Qxe4', 'Qf1#', 'https://lichess.org/training/KKQVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kkRSc', 'Rapid', 'elocym1', 1825, 'fclgomes', 1763, 'd4,e6,c4,g6,Nc3,Bg7,Nf3,Nf6,Bf4,O-O,e3,b6,h3,Bb7,Be2,Nc6,O-O,d6,a3,Ne7,Bd3,Nh5,Bh2,f5,Be2,Nf6,Ng5,Qc8,d5,e5,Ne6,Rf7,f4,c6,fxe5,dxe5,Nxg7,Kxg7,Bxe5,cxd5,Bxf6+,Rxf6,cxd5,Rd6,Qd4+,Kg8,e4,fxe4,Qxe4,Nxd5,Bc4,Qc5+,Kh1,Rc8,Bxd5+,Bxd5,Nxd5,Qxd5,Qg4,Rcd8,Rad1,Qxd1,Rxd1,Rxd1+,Kh2,R1d2,b4,R8d7,Qc4+,Kg7,a4,R2d4,Qc3,g5,a5,bxa5,bxa5,a6,Qb2,Kg6,Qc2+,Kh6,Qc6+,R7d6,Qc7,Rf6,Qe5,Rdd6,Qe2,Rd5,Qa2,Rff5,Kg3,Rxa5,Qe6+,Kg7,Kg4,h6,Kh5,Rf6,Qd7+,Rf7,Qd4+,Rf6,Qa7+,Rf7,Qb6,Raf5,Qxh6+,Kg8,Qxa6,R7f6,Qc8+,Kf7,Qd7+,Kg8,g4,Rf3,h4,gxh4,Kxh4,Rf7,Qd8+,Kh7,g5', 'R7f4+,Kh5,Rh3#', 'https://lichess.org/training/kkRSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kkS52', 'Blitz', 'tychanvik', 1876, 'Amitkji_89', 1635, 'e4,c5,Bc4,Nc6,Nc3,a6,a3,b5,Ba2,c4,b3,Nd4,bxc4,d5,exd5,Nf6,cxb5,Qd6,Nf3,Bg4,h3,Bxf3,gxf3,Qe5+,Kf1,Qf5,d3,Nxf3,b6,g6,Rb1,Bg7,Ne4,Nh5,d6,O-O,dxe7,Rfe8,Nd6,Qf6,Nxe8,Rxe8,h4,Nxh4,b7,Ng3+,Kg1,Nxh1,b8=Q', 'Qxf2+,Kxh1,Qg2#', 'https://lichess.org/training/kkS52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kKSld', 'Rapid', 'vijay713', 1944, 'kvikos', 1848, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,c5,c3,c4,Nbd2,b5,Qc2,Bd6,Bg3,Nc6,e4,Bxg3,hxg3,h6,e5,Nd7,b3,a5,bxc4,bxc4,Bxc4,dxc4,Nxc4,O-O,Nd6,f6,Qg6,Ne7,Qe4,Nd5,c4,f5,Nxf5,Rxf5,cxd5,Bb7,Qg4,Bxd5,Rxh6,Bxf3,gxf3,Nf8,Ke2,Kf7,Rhh1,Qd5,Rhd1,Rc8,Rd2,Qb5+,Ke1,Rc3,Rad1,Rcxf3,d5,exd5,Rxd5,Qb2,e6+,Nxe6', 'Rxf5+,Rxf5,Qxf5+', 'https://lichess.org/training/kKSld');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KKSQd', 'Blitz', 'Esaa-javad', 2115, 'pzlatsim', 1882, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,Bc5,c3,d6,b4,Bb6,a4,a5,b5,Ne7,Re1,Bg4,Be3,O-O,Bxb6,cxb6,Nbd2,d5,exd5,Nexd5,Qb3,Nf4,Nxe5,Re8,Bxf7+,Kh8,Bxe8,Be6,Nf7+,Bxf7,Bxf7,Qxd3,Nf3,Ng4,Qc4,Qf5,Nh4', 'Nh3+,gxh3,Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/KKSQd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kkUjU', 'Rapid', 'BeeBop8386', 2112, 'LittleChessPlayer', 2013, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Be7,O-O,O-O,h3,Bf5,Re1,Nd7,d4,Nb6,Bd3,Bxd3,Qxd3,Re8,Bf4,Nd5,Bh2,Qb6,b3,Rad8,c4,Nb4,Qc3,Na6,a3,Rc8,b4,Qd8,Re2,Bd6', 'Rxe8+,Qxe8,Bxd6', 'https://lichess.org/training/kkUjU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kKuSv', 'Blitz', 'nenson', 2024, 'IM A_Kukhmazov', 2098, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Bd3,e6,Bxg6,hxg6,h4,Nf6,Nf3,Nbd7,Bf4,Qb6,Rb1,c5,O-O,cxd4,Nxd4,Bc5,Nb3,Rxh4,Nxc5,Rxf4,Nxd7,Nxd7,b3,O-O-O,Qe2,Rh8,Rbd1,Qc7,Qd3,Rfh4,Qd6,Qxd6,Rxd6,Nf6,c4,Ne4,Rd4,Nxg3,Rxh4', 'Ne2+,Kh1,Rxh4#', 'https://lichess.org/training/kKuSv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KkVia', 'Rapid', 'danfon', 1967, 'nieznajomy22', 1892, 'e4,c5,Bc4,d6,Nf3,g6,h3,Bg7,O-O,Nc6,a3,e6,c3,Nge7,d4,d5,exd5,exd5,Bb5,cxd4,Nxd4,O-O,Bxc6,bxc6,Be3,Ba6,Re1,Qd6,Nd2,c5,Ne2,Nf5,Bf4,Bxe2', 'Bxd6,Bxd1,Bxf8', 'https://lichess.org/training/KkVia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kkx3Z', 'Rapid', 'rallzetime', 1807, 'Chess_05_ru', 1835, 'e4,e5,f4,Nc6,Nf3,Nd4,Nxe5,Bd6,c3,Bxe5,fxe5', 'Qh4+,g3,Qxe4+', 'https://lichess.org/training/Kkx3Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KKy7P', 'Rapid', 'GuanYu', 1726, 'NollicK', 1820, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Nf3,Nbd7,b3,Bb4,Bb2,Qa5,Rc1,Ne4,Qc2,Qxa2,Bd3,Bxc3+,Bxc3,Qxc2,Rxc2,Nxc3,Rxc3,Nf6,Ne5,O-O,O-O,Bd7,g4,h6,h4,Rfd8,g5,hxg5,hxg5,Ne4,Bxe4,dxe4,f4,exf3,Rxf3,Be8,Rc1,Rac8,Rcf1,Rc7,g6,f6,e4,Rxd4,R1f2,Rd1+,Kg2,Rc8,Rh3,Rcd8,Kg3,fxe5', 'Rh8+,Kxh8,Rf8#', 'https://lichess.org/training/KKy7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kKyEl', 'Rapid', 'MC-Indonesia', 1718, 'angelPavel', 1722, 'Nf3,Nf6,Nc3,d5,d4,h6,e3,e6,a3,a6,Bd3,Nc6,O-O,Be7,e4,dxe4,Bxe4,Nxe4,Nxe4,Bf6,c3,Qe7,a4,Bd7,a5,O-O-O,b4,Be8,Qd3,Kb8,b5,axb5,Qxb5,Na7,Qb2,Bc6,Ned2,Bxf3,Nxf3,Rd7,Bf4,Ka8,c4,Rhd8,Be3,Nc6,a6,b6,c5,Nxd4,cxb6', 'Nxf3+,gxf3,Bxb2', 'https://lichess.org/training/kKyEl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kkzCc', 'Classical', 'zizoo7', 1971, 'Alexkos', 1975, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bg4,c3,Rb8,d3,Ne7,Re1,h6,Nbd2,a6,Ba4,b5,Bc2,Ng6,h3,Be6,d4,exd4,cxd4,Bd7,e5,dxe5,dxe5,Be7,e6,Bxe6,Bxg6,O-O,b3,Bxh3,Bxf7+,Rxf7,gxh3,Qd7,Kg2,Rbf8,Bb2,Qd3,Rg1,Qg6+,Kf1,Qh5,Rg3,Bd6,Rg2,Qxh3,Qc2,Ne5,Bxe5,Bxe5,Re1,Bd6,Qg6,a5,Re3,Bf4,Ne4,Bxe3', 'Nf6+,Rxf6,Qxg7#', 'https://lichess.org/training/kkzCc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kKzXR', 'Rapid', 'Eckturm', 2163, 'TSU80', 2051, 'd4,Nf6,Nf3,e6,g3,d5,Bg2,c5,O-O,Nc6,c4,cxd4,Nxd4,Bc5,Nb3,Bb6,cxd5,Nxd5,e4,Nf6,Nc3,O-O,Bg5,h6,Qxd8,Rxd8,Bxf6,gxf6,Rad1,Bd7,a4,a5,Nb5,Be8,Nd6,Rab8,Nc4,Bc7,Nc5,Rxd1,Rxd1,Rd8,Rxd8,Nxd8,f4,b6', 'Na6,Bxf4,gxf4', 'https://lichess.org/training/kKzXR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kl0cu', 'Rapid', 'Mr_FoXxX', 1690, 'Walyssonsantos', 1692, 'e4,e5,Nf3,Qf6,d3,Bc5,Nc3,Ne7,a3,d5,Bg5,Qb6,Bh4,Bxf2+,Bxf2,Qxb2,Nxd5,Nxd5,exd5,O-O,Be2,Bg4,h3,Bh5,Rb1,Qc3+,Kf1,Nd7,Rxb7,Rfb8,Rxa7,Rxa7,Bxa7,Ra8,Bf2,Rxa3,Nd2,Ra1,Nb1,Bxe2+,Kxe2,Qb2,Re1,Nb6,Bxb6,Qxb6,Qc1,Qg6,Rg1,Qh5+,g4,Qxh3,Kd2,Qh2+,Kc3,Qf2,Qb2,h6,Qxa1', 'Qd4+,Kb3,Qxa1', 'https://lichess.org/training/kl0cu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kl2Bk', 'Classical', 'Serhy', 1733, 'g_roberti', 1746, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,Bb5,Bd7,Qa4,Nxd4', 'Bxd7+,Qxd7,Qxd4', 'https://lichess.org/training/kl2Bk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kL3a4', 'Blitz', 'DanPach', 2499, 'Manni5', 2329, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,Re1,Nc5,Bxc6,dxc6,d4,Ne6,Nxe5,Be7,c3,O-O,Nd2,c5,dxc5,Nxc5,Qf3,c6,Nf1,Be6,Be3,Bd5,Qh3,Ne4,Rad1,Qc7,f4,Bxa2', 'Rd7,Qc8,Rxe7,Qxh3,gxh3', 'https://lichess.org/training/kL3a4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kl4N5', 'Rapid', 'Capa_Makina', 2251, 'faluba1', 1862, 'd4,Nf6,Bf4,d5,e3,e6,c3,Be7,Nd2,O-O,Ngf3,c5,Bd3,c4,Bc2,b5,e4,Bb7,e5,Nh5,Bg3,f6,b3,fxe5,Nxe5,Qe8,Ndf3,Nc6,Nxc6,Bxc6,Ne5,Bb7,b4,Rd8,a4,a6,axb5,axb5,O-O,Nxg3,fxg3,Bd6,Rxf8+,Qxf8,Ra7,Bc8,Qh5,h6,Qxh6,gxh6', 'Bh7+,Kh8,Ng6#', 'https://lichess.org/training/Kl4N5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kl58h', 'Rapid', 'lehn123', 1954, 'CripyPasta2', 1908, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Bg4,O-O,g5,Nc3,Nc6,d4,Bg7,a3,Bxd4+,Kh1,Bb6,Qd5,Be6,Qxg5,Qxg5,Nxg5,Bxc4,Rxf4,O-O-O,b3,Be6,Bb2,Bd4,Rd1,Be5,Rf3,Bg4,Nxf7,Bxf3,gxf3,Nf6,Nxh8,Rxh8,f4,Bxf4,Nd5,Nxd5,Bxh8,Ne3,Rd3,Nxc2,b4,Kd7,Rh3,h6,Bg7,a6,Kg1,Ke6,Bxh6,Bxh6,Rxh6+,Ke5,Rh7,Nxa3,Rxc7,Nxb4,Rxb7,Nac2,h4,Kxe4,h5,Kf5', 'h6,Nd5,h7', 'https://lichess.org/training/Kl58h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kl5J8', 'Classical', 'Styvenv96', 1691, 'RolixRedstone', 1707, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,c6,Be2,Nf6,d4,Qc7,Be3,Bf5,Ne5,e6,O-O,Bd6,f4,O-O,Bd3,Bxd3,Qxd3,Rd8,Ne4,c5,Nxf6+,gxf6,Nf3,cxd4,Nxd4,Bc5,Qd1,e5,Qg4+,Kh8,Nf5,Bxe3+,Nxe3,Qb6,Rfe1,Nd7,Kh1,Rg8,Qxd7,exf4,Nf5,Qf2,Rg1,f3,Nh6', 'fxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/kl5J8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kl5zu', 'Blitz', 'nilspils8', 1729, 'x12r13', 1671, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Nge2,Nc6,d3,Nd4,Bf4,Qc5,g3', 'Nf3#', 'https://lichess.org/training/kl5zu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kL6o9', 'Classical', 'LucianoNaojoganada', 1627, 'Lord_SHluhas', 1687, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,a6,Bc4,b5,Bb3,Bc5,c3,d5,exd5,Nxd5,Bxd5,Qxd5,d4,exd4,Re1+,Be6,cxd4,Nxd4,Nxd4,Bxd4,Rxe6+,fxe6,Nc3,Qd6,a3,Bxc3,Qh5+,g6,Qe2,Rd8,Bh6,Be5,g3,Rg8,Re1,Kd7,Qxe5,Qxe5,Rxe5,Kd6,Bf4,Ke7,b4,Rd1+,Kg2,Rgd8,Rc5,R8d7,Rc6,a5,bxa5,Ra1,a6,Rxa3,h4,h5,Be3,b4,a7,b3', 'Bc5+,Kf6,Bxa3', 'https://lichess.org/training/kL6o9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kl6rx', 'Blitz', 'Antalyalii7', 1914, 'BlueXA', 1938, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,Ne4,Bxe7,Qxe7,Qc2,f5,cxd5,Nxc3,bxc3,exd5,Bd3,O-O,Ne2,Nc6,Nf4,g5,Nxd5,Qd6,e4,fxe4,Bxe4,Be6,Bxh7+,Kg7,Qg6+,Kh8,Qh6,Bxd5', 'Bg6+,Kg8,Qh7#', 'https://lichess.org/training/Kl6rx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KL7ND', 'Classical', 'Anton2406', 1781, 'cmcc', 1704, 'e4,c5,c3,Nf6,e5,Nd5,Nf3,g6,Bc4,Nb6,Bb3,c4,Bc2,Bg7,O-O,O-O,d4,d5,b3,f5,bxc4,Nxc4,Bb3,b5,Nbd2,f4,Re1,Bf5,Nh4,Bd3,Ndf3,Be4,Nd2,e6,Nxe4,dxe4,Nxg6,hxg6,Rxe4,Bh6,f3,Qg5,Bxc4,bxc4,d5,Rd8,d6,Nd7,Bxf4,Qh5,Bxh6,Qxh6,Qa4,Nc5,Qxc4,Nxe4,Qxe4,Kg7,c4,Rh8', 'Qb7+,Kf8,Qxa8+', 'https://lichess.org/training/KL7ND');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KLAMl', 'Rapid', 'aguar', 2030, 'Michal58', 1888, 'd4,d5,Nf3,Nc6,c4,dxc4,e4,e5,d5,Nd4,Nxd4,exd4,Qxd4,Nf6,Bxc4,c6,O-O,cxd5,exd5,Nxd5,Bxd5,Be6,Re1,Be7,Nc3,O-O,Qe5,Bf6,Qe4,Re8,Bxb7,Bd5,Qxe8+,Qxe8,Rxe8+,Rxe8,Ba6', 'Re1+,Bf1,Bc4', 'https://lichess.org/training/KLAMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KlaOT', 'Blitz', 'NM good_knight_kisses', 2401, 'damithk', 2531, 'e4,g6,d4,Bg7,Nc3,a6,f4,d6,Nf3,b5,Bd3,Bb7,a4,b4,Ne2,Nd7,O-O,Ngf6,e5,Nd5,Ng5,e6,c4,bxc3,bxc3,O-O,Rb1,Bc6,a5,Rb8,Bd2,Rxb1,Qxb1,Qa8,Be4,Rb8,Qc2,Ne7,Rb1,Rb5,Rxb5,axb5,Bxc6,Nxc6,Qe4,d5,Qd3,Qxa5,h4,h5,g4,hxg4,h5,Qa1+,Kg2,Ne7,hxg6,Nxg6,Nxe6,Nh4+,Kg3,Qh1,Ng5,b4', 'Qh7+,Kf8,Qxh4,Qxh4+,Kxh4', 'https://lichess.org/training/KlaOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('klbxp', 'Blitz', 'virtuosoviplavkr', 1558, 'hiryrg03111980', 1633, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Ng5,Nxe4,Bxf7+,Ke7,d3,Nd6,Bd5,h6,Qh5,Nb4,Nf7,Qe8,Bg5+,hxg5', 'Qxg5#', 'https://lichess.org/training/klbxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kLCcO', 'Rapid', 'babljak01', 1961, 'pebraham', 1921, 'e4,d6,d4,Nf6,Bd3,e5,c3,d5,dxe5,Nxe4,Nf3,Nc6,O-O,Bg4,h3,Bh5,Nbd2,Nc5,Bb5,Be7,Qc2,O-O,b4,Ne6,g4,Bg6,Bd3,Bxd3,Qxd3,Nf4,Qb5,Nxh3+,Kh2,Ng5,Qxb7,Qd7,Kg3,Qe6,Nxg5,Bxg5,Nf3,Bxc1,Raxc1,Rab8,Qa6,Rb6,Qe2,f6,Rce1,fxe5,Nxe5,Re8,f4,g5,Rf3,gxf4+,Kxf4,Qh6+,Kg3,Rxe5,Qxe5,Nxe5,Rxe5,Rf6,Re8+,Kf7,Rfe3,Qh1', 'R3e7+,Kg6,Rg8+,Kh6,g5+,Kh5,Rxh7+,Rh6,Rxh6#', 'https://lichess.org/training/kLCcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('klcVI', 'Blitz', 'Drexgarib', 2314, 'manroble', 2343, 'e4,e5,f4,exf4,Nf3,d5,exd5,Nf6,Bc4,Bd6,O-O,O-O,d4,Nbd7,Nc3,Re8,Bb3,a6,Ne2,Nh5,c4,b6,Bc2,Ndf6,a3,a5,Qd3,g6,Qc3,a4,Ne5,Bd7,Nxf4,Nxf4,Bxf4,Nh5,Bd2,f6,Nc6,Qc8,Rae1,Rxe1,Rxe1,Qf8,Qf3,Re8,Bxa4,Rxe1+,Bxe1,Qe8,Bc3,Nf4,Bd1,h5,b4,Bg4,Qf1,Be2,Qe1,Qe3+,Kh1,Nd3,Qxe2,Nf2+,Kg1', 'Nh3+,Kf1,Qg1#', 'https://lichess.org/training/klcVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('klE7p', 'Classical', 'Corvetti', 1746, 'nonsochenome', 1816, 'd4,d5,Bf4,c5,e3,c4,c3,e6,Nf3,Qb6,Qc2,Nf6,Nbd2,Nc6,Be2,a5,b3,Nh5,Bg3,Nxg3,hxg3,cxb3,axb3,h6,b4,Bd6,bxa5,Rxa5,Rxa5,Qxa5,O-O,O-O,Bd3,Bd7,Qb2,b6', 'Ra1,Ra8,Rxa5', 'https://lichess.org/training/klE7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kLeE6', 'Blitz', 'Jiprim', 2040, 'bokadav', 1932, 'e4,e5,Nf3,d6,Bc4,Be7,h3,Nf6,d3,a6,c3,b5,Bb3,c5,O-O,Be6,Bxe6,fxe6,Ng5,Qd7,f4,exf4,Bxf4,O-O,Nd2,h6,Ngf3,Nxe4,Nh2,Nxd2,Qxd2,Nc6,Bxh6,Rf6,Rxf6,Bxf6,Bf4,e5,Be3,Rf8,Ng4,Bh4,Kh2,Qf5,Kg1,b4,Re1,bxc3,bxc3,Ne7,Rd1,Nd5,Bf2,Bg5,Qc2,Nf4,Rf1,Bh4,Bxh4,Nxh3+,gxh3,Qxf1+,Kh2,Qf4+,Bg3,Qg5,Qb3+,Kh8,Qc2,Qg6,Qe2,Rb8,Ne3,Rb1,Nd5,Rc1,c4,Ra1,Ne7,Qf6,Qh5+,Qh6', 'Qe8+,Kh7,Qg8#', 'https://lichess.org/training/kLeE6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KlEV4', 'Blitz', 'dftorresc', 1639, 'wfroese', 1671, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nxc6,bxc6,Bd3,g6,Be3,Bg7,Nc3,Nf6,Ne2,O-O,Ng3,Rb8,Qd2,Rxb2,Bh6,Qb6,O-O,Ba6,Bxa6,Qxa6,Bxg7,Kxg7,f4,Rxa2,Rxa2,Qxa2,e5,dxe5,fxe5,Nd5,h4,Rb8,h5,Rb2,hxg6,fxg6,Qg5,Rb1,Nf5+,Kg8,Nh6+,Kg7,Nf5+,Kg8,Nh6+,Kh8,Nf7+,Kg7,Qh6+,Kg8,Rxb1,Qxb1+,Kh2,Qxc2,Ng5,Qf5', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/KlEV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KLfhX', 'Blitz', 'Ege-0-0', 1603, 'le_barbare', 1597, 'e4,e5,Nf3,c6,Nc3,Nf6,Bc4,d5,exd5,e4,Qe2,cxd5,Nxd5,Nxd5,Qxe4+,Ne7,Ng5,Bf5,Bxf7+,Kd7,Qxb7+,Qc7,Qxa8,Qe5+,Kf1,Nbc6,Qb7+,Kd8,d3,Nd4,Nf3', 'Qe2+,Kg1,Qd1+,Ne1,Qxe1#', 'https://lichess.org/training/KLfhX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KlGGK', 'Rapid', 'callaway123', 1667, 'volt1979', 1631, 'e4,e6,d4,d5,e5,c5,c3,Qb6,a3,Nc6,a4,cxd4,Nf3,dxc3,Nxc3,Bc5,Be3,Bxe3,fxe3,Qxe3+,Qe2,Qxe2+,Bxe2,Nge7,Bb5,Bd7,Bxc6,bxc6,O-O,O-O,h4,Rab8,Rab1,Rb7,h5,h6,g4,Rfb8,g5,hxg5,Nxg5,Rxb2,h6,gxh6,Nxf7,Rxb1,Nxb1,Kg7,Nd6,Nf5,Nd2,c5,Rf3,Rb6,a5,Rb2,Nb3,Rb1+,Kf2,Rb2+,Ke1,c4,Nc5,Rb1+,Kd2,Rb2+,Kc1,Ra2,Nxd7,Rxa5,Nxf5+,exf5,Rxf5,Ra6,Nc5,Rc6,Nd7,a5,Rf2,a4,Nf8,a3,e6,Rc8,e7,Re8,Ne6+,Kh7,Rf7+,Kg6,Rf2,Rxe7,Nf4+,Kh7,Nxd5', 'Re1+,Kd2,a2,Kxe1,a1=Q+', 'https://lichess.org/training/KlGGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('klGMz', 'Classical', 'TheUnlikelyKnight', 1866, 'Mahdiiovski', 1977, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,c5,e5,Nfd7,exd6,exd6,dxc5,dxc5,Qe2+,Qe7,Qxe7+,Kxe7,Nd5+,Kd8,Ng5,Re8+,Be2,Nf6,Nxf7+,Kd7,Ne5+,Kd8,Bb5,Nxd5,Bxe8,Kxe8,Nc4,Nc6,O-O,Bf5,Nd6+,Kd7,Nxf5,gxf5,Rd1,Ke6,Rb1,Nd4,Re1+,Kd6,c3,Nc6,c4,Nf6,Be3,b6,Rbd1+,Kc7,b3,Rd8,Rxd8,Kxd8,Rd1+,Kc7,a3,Ne4,Re1,Na5,b4,cxb4,axb4,Nxc4,Rc1,Nd6,Kf2,Kb7,Re1,Nb2,Rb1,Ndc4,Bc1,Bd4+,Ke2,Na4', 'Kd3,Bf6,Kxc4', 'https://lichess.org/training/klGMz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KlGvA', 'Blitz', 'Arnaudh', 1619, 'nishatjahan111', 1621, 'c4,d5,d4,dxc4,e4,Nf6,Nc3,Bg4,f3,Bh5,Bxc4,e6,Bg5,c6,e5,Bb4,Ne2,Nbd7,exf6,Nxf6,O-O,O-O,Ne4,Be7,N2g3,Nxe4,Bxe7,Qxe7,Nxe4,Qb4,b3,b5,a3,Qe7,Be2,Rad8,b4,f5,Ng3,Bf7,Rc1,Qd6,Kh1,f4,Ne4,Qd5,Qd2,e5,Rc5,Qxd4,Qxd4,Rxd4,Rxc6,Bd5,Rd6,Bxe4,Rxd4,exd4,fxe4,Rd8,Bd3,g5,h4,h6,hxg5,hxg5,Rc1,Rd7,Kh2,Kf7,Kh3,Kg6,Kg4,Kf6,g3,fxg3,Kxg3,Kg6,Kg4,Kf6,Rc6+,Ke5,Kxg5,Rg7+,Rg6,Rd7,Ra6,Rg7+,Kh4,Kf4,Re6', 'Rh7+,Rh6,Rxh6#', 'https://lichess.org/training/KlGvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KLh2S', 'Rapid', 'larsonluka10', 1732, 'sirkoagain', 1721, 'e4,c6,d4,d5,e5,Bf5,g4,Be4,f3,Bg6,Nc3,e6,f4,h5,Bh3,hxg4,Bxg4,Nh6,Bh3,Nf5,Nf3,c5,Bg4,cxd4,Nxd4,Nxd4,Qxd4,Nc6,Qa4,a6,Be3,b5,Qb3,Ne7,O-O-O,Nf5,Bf2,Be7,Ne4,Bh4,Bc5,Qc8,Bd6,Nxd6,Nxd6+,Kd7,Nxc8,Kxc8,Rxd5,Kc7,Rc5+,Kb6,Qc3,Bf2,Rc6+,Kb7,Rc7+,Kb6,Rd1,Rad8,Qc6+,Ka5,Rf1,Rxh2,a3,Be3+,Kb1,Rxc2,b4+,Ka4,Qxa6+,Kb3,Rxc2', 'Bxc2+,Ka1,Bd4#', 'https://lichess.org/training/KLh2S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KLicA', 'Blitz', 'GM mango_toxico', 2668, 'NM ivanmesquitaa', 2568, 'Nf3,d5,c4,c6,g3,Nf6,Bg2,Bg4,Ne5,Bf5,cxd5,cxd5,Nc3,Bc8,d3,e6,Bf4,Bd6,Qa4+,Kf8,O-O,Bxe5,Bxe5,Nc6,Bxf6,Qxf6,e4,d4,Nb5,h5,f4,e5,fxe5,Qxe5,Qa3+,Kg8,Nd6,Be6,Nxb7,h4,Rac1,hxg3,Rxc6,Rxh2,Qd6,Qg5,Qf4,Qb5,Rc7,Qxd3,Nd6,Rb8,Nxf7,Rxb2,Nh6+,Rxh6', 'Qf8+,Kh7,Rxg7#', 'https://lichess.org/training/KLicA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('klliQ', 'Rapid', 'ahmed654321', 1878, 'Ivanvas53', 1899, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,Bc4+,Be6,Bxe6+,Kxe6,O-O,Kf7,d3,Be7,Qf3,Re8,d4,Kg8,e5,dxe5,dxe5,Nd5,Rd1,c6,c4,Rf8,Qe4,Bc5,Be3,Bxe3,fxe3,Qb6,cxd5,Qxb2,Qd4', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/klliQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kLMzw', 'Rapid', 'shindeiru1', 2298, 'KurtOks17', 2130, 'e4,e5,Nf3,Nf6,d3,Nc6,Be2,h6,O-O,Bc5,b3,d6,Bb2,Bg4,h3,Bxf3,Bxf3,O-O,c3,Bb6,Nd2,Nh7,d4,exd4,cxd4,Nxd4,Nc4,Nxf3+,Qxf3,Ng5,Qg3,f6,Rae1,Re8,Qg4,Qc8,Qf4,Re7,h4,Ne6,Qg3,Bd4,Bxd4,Nxd4,f4,b5,Qd3,bxc4,Qxd4,cxb3,axb3,Qg4', 'Qd5+,Kh7,Qxa8', 'https://lichess.org/training/kLMzw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('klOKo', 'Rapid', 'ancer22', 1992, 'bahaaf', 1959, 'd4,Nf6,c4,g6,Nf3,Bg7,g3,d5,c5,b6,b4,a5,bxa5,bxc5,e3,Rxa5,Bd2,Ra8,Nc3,cxd4,Nxd4,c5,Bb5+,Bd7,Nb3,Bxb5,Nxb5,Ne4,Rc1,c4,f3,cxb3,Nc7+,Kf8,Nxa8,Nxd2,Qxd2,b2,Rb1,Na6,Rxb2,Bxb2,Qxb2,f6,Nb6,Nc5,Qb5,Qd6,Ke2,Kg7,Rd1,Rb8,Rc1,Ne6,Rc6,Qe5,Qd3,Nd8,Nd7,Qb2+', 'Rc2,Qb5,Nxb8', 'https://lichess.org/training/klOKo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kLTCT', 'Rapid', 'TunnelFlyer', 1737, 'Gylesdlh', 1644, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be3,g6,Qd2,Bg7,O-O-O,a5,f4,Be6,Bb5,Bd7,f5,O-O,g4,Nxg4,Nxc6,bxc6,Ba4,Nxe3,Qxe3,e6,h4,h5,fxg6,fxg6,Ne2,d5,Rdg1,Kh7,Rh2,e5,Rhg2,Bg4,Bxc6,dxe4,Bxe4', 'Bh6,Qxh6+,Kxh6', 'https://lichess.org/training/kLTCT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kltOv', 'Rapid', 'bogdankukic', 1731, 'ArabicHorse', 1876, 'e4,c5,Nf3,e6,b3,Nc6,Bb2,d6,d3,Nf6,Nbd2,Be7,Be2,O-O,O-O,Qc7,h3,a6,a3,b5,Rc1,Bb7,Re1,Nd7,Nf1,Bf6,Bxf6,Nxf6,Ng3,d5,e5,Nxe5,Nxe5,Qxe5,Bf3,Qc7,c4,Rfd8,Qc2,Rac8,cxb5,axb5,b4,c4,dxc4,dxc4,Ne4,Nxe4,Bxe4,Bxe4,Qxe4,Rd3,Re3,Rcd8', 'Rxd3,cxd3,Rxc7', 'https://lichess.org/training/kltOv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KlUCD', 'Classical', 'M3Malik', 1731, 'Abdylkadirchempion', 1744, 'e4,e5,Bc4,Bc5,d3,Nc6,Nc3,Na5,Bxf7+,Kxf7,Qh5+,Kf8,Qxe5,Bd6,Qxa5,Nf6,Nf3,b6,Qf5,Qe7,Nd5,Qe6,O-O', 'Qxf5,exf5,Nxd5', 'https://lichess.org/training/KlUCD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KLUg0', 'Rapid', 'INVOR', 1972, 'Russia_2009', 1827, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Nf6,d4,Qa5,Bd2,a6,Nf3,Bg4,b4,Qh5,O-O,e6,b5,Bd6,h3,Bxh3,gxh3,Qxh3,Ne5,h5,Bd3,Ng4,Bf4,Bxe5,dxe5,g5,Bg3,h4,Qf3,hxg3,Qg2,gxf2+,Rxf2,Nxf2,Kxf2,Qxg2+,Kxg2,Nd7,Be4,Rb8,Rb1,a5,Na4,Nxe5,Nc5,b6,Na6,Rd8,Nxc7+,Ke7,Re1,Rd2+,Kg1,Rh4,Na8,Rd4,Bg2,f6,Nxb6,Rhg4,Re2,Rd1+,Kf2,Rf4+,Kg3,Rg1,Kh2,Rb1,a4,Ng4+,Kg3,Ra1', 'Nd5+,Kd6,Nxf4', 'https://lichess.org/training/KLUg0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KLUWI', 'Rapid', 'hedayat', 1802, 'ilias28', 1854, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,a4,Qf6,Qd2,a6,Nc3,Nge7,Nd5,Nxd5,exd5,Ne5,Qf4,Qxf4,Bxf4,Ng6,Bg3,d6,Bd3,O-O,O-O,Bd7,Nd2,Rae8,Nc4,Ba7,a5,Re7,Rfe1,Rfe8,Rxe7,Rxe7,Kf1,Ne5,Nxe5,dxe5,Re1,f6,f3,g6,f4,Bb5,Bxb5,axb5,fxe5,Bd4,d6,cxd6,exd6,Rxe1+,Kxe1,Kf7,c3,Be5,Bxe5,fxe5,b4,Ke6,c4', 'bxc4,b5,Kxd6', 'https://lichess.org/training/KLUWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KlVnF', 'Rapid', 'nussy', 1757, 'Wilco_11111', 1773, 'e4,c6,d4,d5,Nc3,e6,Nf3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Bd3,a6,O-O,c5,Na4,Nc6,c3,b5,Nxc5,Nxc5,dxc5,Qxc5,b4,Qe7,h4,Bb7,Ng5,h6,Qh5,Nxe5,Rae1,Nxd3', 'Rxe6,Qxe6,Nxe6', 'https://lichess.org/training/KlVnF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('klwbJ', 'Blitz', 'ArchibaldCronin', 2310, 'IM siansell', 2469, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,c3,Bc5,Be3,Bb6,Nd2,Nxd4,Bxd4,Bxd4,cxd4,d5,e5,Ne7,Bd3,Bf5,Nb3,Bxd3,Qxd3,O-O,O-O,c6,f4,f5,exf6,Rxf6,Rae1,Nf5,Re5,Nd6,Nd2,Qb6,g3,Rd8,b3,Ne4,Nxe4,dxe4,Rxe4,Rfd6,Qc4+,Kh8,Rfe1,Rf6,Kg2,Rff8,Qc5,Kg8,Qxb6,axb6,Kf3,Rd7,Ke3,Rfd8,Rd1,Kf7,a4,c5,f5,h6,g4,Kf6,h4,h5,Kf4,hxg4,Kxg4,Rxd4,Rexd4', 'Rxd4+,Rxd4,cxd4,Kf4,d3', 'https://lichess.org/training/klwbJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KLwUo', 'Blitz', 'Garsonluk0707', 1778, 'tola12', 1718, 'e4,c5,Nf3,d6,Bb5+,Nc6,Bxc6+,bxc6,c4,g6,d3,Bg7,Nc3,Nf6,Bg5,O-O,O-O,Bb7,Qc2,Rb8,Rab1,Qd7,e5,dxe5,Nxe5,Qf5,Nf3,e5,Qe2,Ne8,Be7,Nf6,Bxf8,Rxf8,Rfe1,Ng4,h3,Nh6,Ne4,Bc8,Nd6,Qe6,Nxc8,Rxc8,b3,Nf5,Qe4,Re8,g4,Nd4,Nxd4,cxd4,f4,f5,gxf5,gxf5,Qg2,e4,dxe4,fxe4,Rbd1,Kh8,Qg4,Qe7,h4,d3,Qh5,Bf6,Rxd3,Rg8+,Kh1,Bxh4,Rde3,Qg7,Qe5,Bf6,Qxe4', 'Qh6+,Rh3,Qxh3#', 'https://lichess.org/training/KLwUo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('klxJl', 'Blitz', 'AverinSergei', 1974, 'GGCPH53', 1910, 'd4,Nf6,Bf4,g6,Nc3,Bg7,Qd2,O-O,Bh6,d6,Bxg7,Kxg7,h4,Nbd7,h5,Nxh5,g4,Nhf6,Qh6+,Kg8,Ne4,e5,Ng5,exd4,Nxh7,Nxg4', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/klxJl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KlXKL', 'Rapid', 'CM Dumbeldore', 2021, 'williK', 1830, 'd4,g6,c4,Bg7,e4,d6,Nc3,Nd7,f4,e5,fxe5,dxe5,d5,Ngf6,Nf3,a6,Bg5,O-O,Be2,Qe8,O-O,Nc5,Qc2,Bg4,b4,Ncd7,c5,h6,Be3,Rc8,h3,Bxf3,Bxf3,Nh7,a4,f5,b5,axb5,axb5,f4,Bf2,g5,Bg4,Nhf6,Be6+,Kh8,c6,bxc6,bxc6,Nb6,Bxb6,cxb6,Bxc8,Qxc8,Nb5,g4,d6,gxh3,gxh3,Qxh3,Qg2,Qe3+,Kh1,Nxe4,Rae1', 'Ng3+,Kh2,Nxf1+', 'https://lichess.org/training/KlXKL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kLyKt', 'Classical', 'spectral-dog', 1924, 'anjumskhan_practice', 2070, 'd4,Nf6,c4,g6,Nc3,d6,e4,Bg7,Nf3,Nc6,Be2,O-O,O-O,Bg4,Be3,Bxf3,Bxf3,e5,d5,Ne7,b4,Nd7,Qd2,Nb6,c5,Nc4,Qc1,Nxe3,fxe3,f5,Rb1,fxe4,Nxe4,Nf5,Bg4,Bh6,Bxf5,gxf5,Nf2,Qg5,Rb3,Kh8,Nh3,Qg4,Qb2,Rg8,Nf4,Bg7,Ne6,Bf6,e4,Qxe4,Nxc7,Rac8,cxd6,Rcd8,Qf2,Rxd6,Qxf5', 'Qxg2#', 'https://lichess.org/training/kLyKt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KM8wI', 'Rapid', 'suleimans', 1695, 'dr_-sstrange', 1695, 'c4,e5,Nc3,Nc6,e3,Nf6,d4,Bb4,d5,Ne7,Bd2,d6,a3,Bxc3,Bxc3,c6,dxc6,Nxc6,f3,Be6,b3,O-O,Bd3,d5,cxd5,Bxd5,Nh3,Qb6,Qc1,Rac8,b4,a5,Rb1,axb4,axb4,Nxb4,Rxb4', 'Qxb4,Bxb4,Rxc1+', 'https://lichess.org/training/KM8wI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kM9fS', 'Blitz', 'wilsonopeda68', 1816, 'FM fQ-System', 2316, 'd4,c6,c4,d5,Nc3,Nf6,h3,a6,Nf3,Bf5,g4,Be4,Nxe4,Nxe4,c5,Nd7,Bg2,g6,O-O,Bg7,a4,e5,e3,exd4,exd4,O-O,Be3,f5,Ra3,fxg4,hxg4,Ndf6,Ne5,Nd7,Bxe4,dxe4', 'Qb3+,Kh8,Nf7+,Rxf7,Qxf7', 'https://lichess.org/training/kM9fS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kMakl', 'Blitz', 'ASFIGIL', 1603, 'KennySegal', 1683, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,d4,cxd4,Nxd4,Ngf6,Nc3,a6,O-O,e5,Nf5,Nc5,Bg5,g6,Ne3,Bg7,Ned5,O-O,Qf3,Ncd7,Rad1,h6,Nxf6+,Nxf6,Bxf6,Bxf6,Nd5,Bg7,Rd3,Rc8,Qe2,f5,f3,Kh7,Rfd1,fxe4,fxe4,Qa5,Qg4,Rxc2,Ne7,Rf6,Rg3,Qc5+,Kh1,Rc1,Qe2,Qc2,Qxc2', 'Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/kMakl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kMbNE', 'Rapid', 'chalderanli', 1849, 'dflint112', 1800, 'e3,e5,g3,d5,Bg2,Nf6,b3,Bd6,Bb2,O-O,Nc3,e4,Nge2,Nc6,Nf4,Be6,Nxe6,fxe6,O-O,Qe7,d3,exd3,cxd3,Rad8,Nb5,Bc5,a3,a6,Nc3,Ne5,d4,Nfg4,dxc5,Nxf2,Rxf2,Qxc5,Re2,d4,Na4,Qa7,Bxd4,b6,Qc2,Ng4,Qb2,Rf7,Rc1,Rdf8,Rc4,c5,Nxc5,bxc5,Bxc5,Nxe3,Bxa7', 'Rf1+,Bxf1,Rxf1#', 'https://lichess.org/training/kMbNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KmBox', 'Blitz', 'Serbia_Belgrade', 2201, 'Pirz', 2211, 'd4,Nf6,c4,c5,Nf3,g6,Nc3,Bg7,d5,d6,g3,a6,a4,O-O,Bg2,e6,O-O,exd5,cxd5,Nbd7,Nd2,Rb8,Nc4,Nb6,Na3,Re8,a5,Nbd7,Nc4,Ne5,Nb6,Bf5,e4,Bg4,f3,Bd7,f4,Neg4,h3,Nh6,Kh2,Bb5,Re1,Nd7,Nxd7,Qxd7,Qb3,Kh8,e5,c4,Qb4,dxe5,fxe5,Bf8,d6,Bc6,Qxc4,Bxg2,Kxg2,Nf5,Bf4,h6,g4,Nh4+,Kf2,h5,Ne4,Qc6,Qxc6,bxc6,Re2,Bg7,Rc1,Bxe5,Bxe5+,Rxe5,Rxc6,hxg4,hxg4,f5,gxf5,Nxf5,Ng5', 'Rxe2+,Kxe2,Nd4+,Kd3,Nxc6', 'https://lichess.org/training/KmBox');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KMbVX', 'Rapid', 'NM TheLlamaLord', 2201, 'rosenfim', 2106, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,c6,e3,Bb4,Bd3,Qa5,Bxf6,Bxc3+,bxc3,Qxc3+,Kf1,gxf6,Ne2,Qa5,Nf4,Qd8,Qh5,Nd7,Qh6,Ke7,Bxh7,Nf8,Qg7,Nxh7', 'Ng6+,Kd7,Nxh8', 'https://lichess.org/training/KMbVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kmc1P', 'Rapid', 'Bujo', 1826, 'KingMob93', 1748, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d5,e5,f6,Bb5,fxe5,dxe5,a6,Bxc6+,bxc6,Nf3,Bg4,O-O,Qc7,Re1,e6,Qd3,Bb4,Bd2,Bxd2,Nbxd2,Ne7,Rac1,O-O,Ng5,Ng6,Qg3,Bf5,Nb3,Rab8,Nd4,Qd7,Rxc6,Rxb2,Rd6,Qa7,Ndxe6,Bxe6,Nxe6,Rfxf2,Rd8+,Nf8,Qe3', 'Rxg2+,Kh1,Rxh2+', 'https://lichess.org/training/kmc1P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kmchL', 'Blitz', 'Stefaaan', 1540, 'MasterCassim', 1551, 'b3,d5,Bb2,Nc6,e3,e5,f4,Bd6,Nf3,exf4,Bxg7,fxe3,dxe3,Qe7,Qd2,Ne5,Bxh8,Nxf3+,gxf3,Be5,Bxe5,Qxe5,Qc3,Qf5,Bb5+,c6,Bxc6+,bxc6,Qxc6+,Ke7,Qxa8,Qxf3,Rf1', 'Qxe3+,Kd1,Bg4+,Rf3,Bxf3#', 'https://lichess.org/training/kmchL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KmecM', 'Rapid', 'shravan2013', 1786, 'Endyium', 1782, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nf3,Qc7,Nc3,a6,Bd2,Nf6,Bd3,b5,O-O,Bb7,Ne2,d5,exd5,Nxd5,c4,Ndb4,cxb5,Nxd3,bxc6,Qxc6,Bc3,Rd8,Qc2,e5,Rfd1,e4,Ne5,Qe6,Qa4+,Ke7,Qa3+,Qd6,Bb4,Qxb4,Rxd3,Qxa3,Rxa3,Ke6,Ra5,Rd5,Nf4+,Kxe5,Nxd5,Bxd5,Rd1,Bb4,Raxd5+,Kf4,R1d4,Rc8,g3+,Kf3,Rxb4', 'Rc1+,Rd1,Rxd1#', 'https://lichess.org/training/KmecM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kmeRw', 'Classical', 'pfccska', 1698, 'Ariantal', 1887, 'Nf3,d5,d4,Nf6,Bf4,c6,e3,Bg4,h3,Bh5,Be2,e6,c4,Ne4,O-O,Bd6,Bxd6,Qxd6,c5,Qe7,Nbd2,f5,Nxe4,fxe4,Ne5,Bxe2,Qxe2,O-O,b4,Nd7,Nxd7,Qxd7,a4,Rf6,b5,Raf8,Ra2,Qe8,bxc6,bxc6,a5,Qg6,Qa6,Rf3,Kh2,R3f5,Qxc6,Rg5,Rg1,h6,Qd6,Rf3,c6', 'Rxh3+,gxh3,Rxg1,Qb8+,Kh7,Qg3,Rxg3', 'https://lichess.org/training/kmeRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KmHSJ', 'Rapid', 'samvel53', 1891, 'ChessNihilist', 1811, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Nc6,O-O,Nf6,Re1+,Be7,Ne5,Qc7,Qe2,Be6,Bxc6+,bxc6,d3,h6,Bf4,Bd6,Nxf7,Qxf7,Bxd6,Kd7,Bxc5,Rhe8,Qd2,Qg6,Nc3,Bh3,f3,Rab8,b4,a5,a3,axb4,axb4,Ra8,Rxa8', 'Rxe1+,Kf2,Qxg2+,Kxe1,Qf1#', 'https://lichess.org/training/KmHSJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KmHxD', 'Blitz', 'Ace183', 1729, 'chessplayer2010', 1842, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bc4,e6,O-O,a6,Nxc6,bxc6,Bg5,Be7,Kh1,O-O,f4,d5,Bd3,Nd7,Qh5,Bxg5,fxg5,Ne5,Rf4,Nxd3,cxd3,Qb6,Rh4,h6,gxh6,g6,Qe5,f6,Qg3,Kh7,Qd6,Rf7,Rf1,Raa7,h3,Qxb2,Na4,Qb5,Nc5,Rac7,Nxe6,Bxe6,Qxe6,Qxd3,Rhf4,dxe4,Rxf6,Rxf6,Rxf6,Qd1+,Kh2,e3,Rxg6,e2,Qe4,e1=Q', 'Rg7+,Kxh6,Qg6#', 'https://lichess.org/training/KmHxD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KMi7t', 'Blitz', 'vladakolic', 2453, 'FM JustAnAppleToday', 2524, 'd4,d5,c4,e6,Nc3,c6,e4,dxe4,Nxe4,Bb4+,Nc3,c5,a3,Bxc3+,bxc3,Nf6,Nf3,Nc6,Be2,Ne4,Qc2,f5,O-O,Qa5,Bd2,Nxd2,Nxd2,cxd4,cxd4,Nxd4,Qd3,Qc3', 'Bh5+,Kf8,Qxc3', 'https://lichess.org/training/KMi7t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kmiet', 'Rapid', 'rahul0811', 1817, 'sunchaz', 1836, 'e4,e5,Bc4,Nf6,Nc3,Bc5,d3,h6,Nd5,O-O,Be3,Bxe3,fxe3,Nxd5,exd5,Qh4+,g3,Qf6,Qf3,Qxf3,Nxf3,d6,O-O-O,Bg4,Rdf1,Nd7,h3,Bf5,Nh4,Bh7,g4,f6,Nf5,Rf7,h4,a6,e4,b5,Bb3,Nc5,g5,hxg5,hxg5,Nxb3+,axb3,Bxf5,exf5,fxg5,Rhg1,Raf8,Rxg5,Rf6,Kd2,Rh6,Kc3,Rh4,Rfg1,Rf7,f6,Rh7,fxg7,Rhxg7', 'Rxg7+,Rxg7,Rxg7+,Kxg7,Kb4,e4,dxe4', 'https://lichess.org/training/kmiet');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KMIHd', 'Classical', 'CampeonMatias', 2109, 'DrFicher', 1960, 'f4,c6,Nf3,d5,g3,Nf6,Bg2,Bf5,O-O,Nbd7,d3,e6,Nc3,Bc5+,Kh1,h5,Nh4,Ng4,d4,Bb4,Nb1,Be7,Nxf5,exf5,Qd3,g6,c4,h4,h3,Ngf6,Nc3,Bb4,cxd5,Bxc3,bxc3,cxd5,c4,hxg3,cxd5,Ne4,Bxe4,fxe4,Qxe4+,Kf8,Kg2,Qh4,Rh1,Nf6,Qf3,Re8,Bd2,Kg7,Rae1,Re7,Qxg3', 'Qxg3+,Kxg3,Ne4+,Kf3,Nxd2+', 'https://lichess.org/training/KMIHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kmIhN', 'Rapid', 'kukadi', 1793, 'BhargavHabbu', 1827, 'd3,e5,e4,d5,exd5,Qxd5,Nf3,Nf6,Qe2,Nc6,Nc3,Qc5,Be3,Qd6,O-O-O,Bg4,h3,Bh5,g4,Bg6,g5,Nd5,Nxd5,Qxd5,Bg2,Qxa2,Nxe5,O-O-O,Nxc6,Qa1+,Kd2,bxc6,Bd4,Bb4+,Bc3,Qxb2,Qg4+,Kb8', 'Qxb4+,Qxb4,Bxb4', 'https://lichess.org/training/kmIhN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kmiTN', 'Blitz', 'Salvaged_Dirt', 2417, 'FM Jazzyjef', 2552, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,g3,Qc7,Bg2,Nf6,O-O,Nc6,Nb3,Be7,a4,b6,f4,d6,Nc3,Bb7,g4,h6,h4,h5,g5,Ng4,Bf3,g6,Bxg4,hxg4,Qxg4,O-O-O,Nd5,Qb8,Nxb6+,Kc7,a5,Nb4,c3,Nc2,Ra4,Bc6,Rc4,d5,exd5,exd5,Rxc6+,Kxc6,Rf2,Na1,Nxa1,Bc5,Nb3,Bxf2+,Kxf2,Qd6,Nd4+,Kb7,Be3,f5,gxf6,Qxf6,Qg5,Qf7,b4,Kc7,Qe5+,Kb7,b5,Rhe8,Qg5,axb5,Nxb5,d4,Nxd4,Qa2+,Kf3,Qb1,Qb5,Qe4+,Kg4', 'Qg2#', 'https://lichess.org/training/kmiTN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kMJqF', 'Classical', 'andgus68', 1913, 'Hidebringer', 1860, 'c4,e5,Nc3,Bc5,e3,Nf6,d4,exd4,exd4,Bb4,Bg5,h6,Bh4,g5,Bg3,Ne4,Qc2,Nxg3,hxg3,Qf6,Nf3,g4,Ne5,d6,Nd3,Bf5,d5,Na6,Qd2,Bxd3,Bxd3,O-O-O,O-O-O,Nc5,a3', 'Nb3+,Kc2,Nxd2', 'https://lichess.org/training/kMJqF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kmKDe', 'Classical', 'Dominant25', 1819, 'TheHumongousFungus', 1892, 'c4,c6,Nc3,d5,cxd5,cxd5,Nf3,Nc6,e3,Nf6,Be2,h6,a3,Bf5,b4,a6,Nh4,Bh7,d4,e6,O-O,Bd6,g3,O-O,Bb2,b5,Ng2,Ne4,Nf4,Re8,Bd3,f5,Bc2,Qc7,Bb3,g5,Nxe6,Rxe6,Bxd5,Re8,Bxe6+,Rxe6,Nd5,Qb8,f4,Nf6,Nc7,Qxc7,d5,Rxe3,Bxf6,Qb6,Kh1,Ne7', 'Bd4,Qb7,Bxe3', 'https://lichess.org/training/kmKDe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kmKHr', 'Blitz', 'sarrin456', 1530, 'victorssss', 1533, 'd4,b6,Nf3,Bb7,e3,e6,Bd3,d6,c4,a6,Nbd2,h6,O-O,g6,b3,Bg7,Bb2,Ne7,e4,c5,d5,Bxb2,Rb1,Bg7,dxe6,fxe6,Qc2,e5,Ne1,Nbc6,f4,Nd4,Qd1,Bc8,fxe5,dxe5,Ndf3,O-O,Nxd4,Qxd4+,Kh1,h5,Nf3,Qd8,Ng5,Bg4,Rxf8+,Qxf8,Qd2,Bh6,Rf1,Qg7,h4,Nc6,Rf7,Qh8,Qf2,Rf8', 'Rxf8+,Bxf8,Qf7#', 'https://lichess.org/training/kmKHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kMkVX', 'Rapid', 'skhurram786', 1916, 'superhero2008', 2098, 'd4,d5,Bf4,Nc6,e3,f6,Nf3,Bg4,Be2,e5,dxe5,Bxf3,Bxf3,fxe5,Bg3,e4,Be2,Bd6,Qxd5', 'Bb4+,Qd2,Bxd2+', 'https://lichess.org/training/kMkVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kml5G', 'Rapid', 'AnjumSKhan', 1988, 'Fedor_Galitskiy', 1688, 'c4,c6,Nc3,d5,d4,dxc4,a4,Nf6,e3,Bf5,Bxc4,e6,Nf3,c5,O-O,cxd4,exd4,Nc6,d5,exd5,Nxd5,Nxd5,Bxd5,Bb4,Qe2+,Qe7,Qc4,O-O,Bg5,Qc5,Qa2,h6,Rac1,Qb6,Be3,Qa6,Bc4,Qa5,Bb5,Rac8,Rfd1,a6,Bc4,b5,Bb3,bxa4,Bxa4,Ne7,h3,Bc2,Rxc2,Rxc2,Qb3,Rcc8,Rd7,Ng6,Qd1,Rfd8,Bb3,Rxd7,Qxd7,Rf8,Qb7,Qa1+,Kh2,Bd6+,g3,Qxb2', 'Bxf7+,Rxf7,Qxb2', 'https://lichess.org/training/kml5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KmLgg', 'Rapid', 'derrocador', 1662, 'Ghassan77', 1665, 'e4,e6,d4,d5,exd5,exd5,Nc3,c6,Nf3,Be6,Bf4,Be7,Bd3,Nd7,O-O,Ngf6,Ne5,O-O,Na4,a6,b3,Nb6,Nc5,Bxc5,dxc5,Nbd7,b4,Rc8,c3,Ne4,Bxe4,dxe4,Re1,Nf6,f3,exf3,Qxf3,Bd5,Qg3,Nh5,Qg4,Nxf4,Qxf4,Qf6,Qxf6,gxf6,Ng4,f5,Ne3,Be4,g4,fxg4,Nxg4,Kh8,Rxe4,Rg8,Rae1,f5,Rf4,Rxg4+,Rxg4,fxg4,Re4,h5,Re7,Rb8,Kf2,Rf8+,Kg3,Rf3+,Kh4,Rh3+,Kg5,Rxh2', 'Kg6,Rf2,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/KmLgg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KmLNx', 'Blitz', 'IM sillyMASTER', 2781, 'ffl0', 2600, 'd4,Nf6,c4,g6,Nc3,d5,h4,dxc4,e4,c5,d5,b5,e5,Ng4,e6,f5,Nxb5,Bb7,Bxc4,Bg7,Nf3,O-O,h5,Na6,hxg6,hxg6,d6,Nb4,Bg5,Nf6,a3,Nbd5,dxe7,Nxe7,Ne5,Bxg2,Rh2,Bd5,Nxg6,Nxg6,Bxf6,Qxf6,Qxd5,Ne7,Qf3,Qe5+,Kf1,Qxh2,Rd1,Rad8,Rd7,Qh4,Qd3,Bd4,Qf3,Bxf2,Nd6,Bd4,Nxf5,Rxf5,Qxf5,Qh1+,Ke2,Qg2+,Kd3,Qg3+,Kc2,Qh2+,Kd1,Qg1+,Kd2,Qh2+,Kd3,Qg3+,Ke2,Qh2+,Ke1,Qg1+,Qf1,Qxf1+,Kxf1,Re8,Ke2,Kf8,Kd3,Nf5', 'Rf7+,Kg8,Rxf5', 'https://lichess.org/training/KmLNx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kmn5l', 'Blitz', 'Richmond21', 1719, 'qqq88', 1593, 'e4,e5,Qh5,Nc6,Bc4,Qe7,Nc3,Nf6,Qf3,Nd4,Qd1,b5,Nf3,Nxf3+,Qxf3,bxc4,b3,d6,bxc4,Qd7,O-O,Be7,d3,Bb7,Be3,O-O,a4,Rab8,a5,Ba8,Rfb1,a6,Rxb8,Rxb8,Qe2,h6,h3,Nh7,Nd5,Bxd5,cxd5,c6,c4,c5,Qc2,Rb7,Rb1,Rxb1+,Qxb1,Bh4,Qb6,Qe7,Qxa6,Qf6,Qc8+,Nf8,a6,Kh7,a7,Ng6,a8=Q,Nf4,Qh8+,Kg6,Qc6,Nxd3,Qd8,Bxf2+,Bxf2,Qxf2+,Kh2,Ne1,Qcxd6+,f6,Qe8+,Kg5,h4+,Kxh4,Qg6', 'Nf3+,Kh1,Qe1#', 'https://lichess.org/training/kmn5l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KMNqT', 'Blitz', 'TeoKajLibroj', 1540, 'blackpanthermachine', 1533, 'e4,Nc6,d4,e5,d5,Nce7,Nf3,Ng6,c4,Nf6,Nc3,Bb4,Bd3,O-O,O-O,Bxc3,bxc3,d6,Be3,Bg4,c5,b6,cxd6,cxd6,c4,Nh4,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,Rc8,Rac1,Rc7,Qg3,Nxe4,Qg4,Nf6,Qg3,Nh5,Qh3,Nf4,Qf3,Qf6,h3,Rfc8,Qe4,Ne2+,Kh1,Nxc1,Rxc1,b5,Qg4,Rxc4', 'Qxc8+,Rxc8,Rxc8+,Qd8,Rxd8#', 'https://lichess.org/training/KMNqT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KMONe', 'Blitz', 'GM Macrofago', 2540, 'alamarxa', 2099, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,Be7,c4,c6,Nc3,O-O,cxd5,cxd5,Be3,Rb8,b3,a6,Rc1,Ba3,Rc2,Kh8,Ba7,Ra8,Bd4,Be6,Na4,Rc8,Nc5,Bxc5,Rxc5,Re8,Bxa6', 'Rxc5,Bxc5,Qa5,Bd4,Qxa6', 'https://lichess.org/training/KMONe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KmOWu', 'Classical', 'ngv6812', 1686, 'zohaibm', 1659, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,O-O,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d6,O-O,d5,exd5,Nxd5,Bxd5,Qxd5,Re1,Qd6,Nc4,Qg6,Nce5,Nxe5,Nxe5,Qg5,Qb3,h5,Nxf7,Rxf7,Re8+,Kh7,Qxf7,h4,h3,Bxh3,Qg8+,Kg6,Re6+,Bxe6,Qxe6+,Kh7,Re1,Rf8,Re5,Qc1+,Kh2,Qf4+,Kh3,g6,Re4,Qxf2,Rxh4+,Kg7,Qe5+,Rf6,Qxc7+,Rf7,Qe5+,Rf6,d5,Kg8,d6,Rf8,Qe6+,Kg7,d7,Qf1,Rg4,Rf3+,Rg3', 'Qh1+,Kg4,Qh5#', 'https://lichess.org/training/KmOWu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KmpRW', 'Rapid', 'moulicha', 1672, 'mehul19', 1721, 'Nf3,c5,d4,e6,e4,Nc6,d5,exd5,exd5,Nb4,Nc3,d6,Bc4,Nf6,O-O,Be7,Re1,O-O,a3,Na6,b4,Nc7,Ne4,Nfxd5', 'Bxd5,Nxd5,Qxd5', 'https://lichess.org/training/KmpRW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KmQcD', 'Classical', 'austro', 1881, 'skagaida', 1932, 'Nf3,c5,d4,d5,c3,Bf5,Ne5,Nc6,Nxc6,bxc6,e3,Nf6,Bd3,Bg4,f3,Bd7,O-O,c4,Bc2,e6,e4,c5,exd5,exd5,Re1+,Be7,Bg5,O-O,dxc5,Bxc5+,Kh1,Be6,Be3,Bd6,Bd4,a6,Nd2,Ne8,b3,Qc7,Nf1,Be7,bxc4,dxc4,Be4,Rb8,Rb1,Nd6,Bc2,Nb5,Ne3,Nxd4,cxd4,Bd6,g3,Bh3,Qe2,Rxb1,Rxb1,Re8,Qxc4', 'Rxe3,Qxc7,Bxc7', 'https://lichess.org/training/KmQcD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KMqqE', 'Blitz', 'FM calinxd', 2400, 'IM manitodeplomo', 2525, 'd4,g6,e4,Bg7,Nc3,c5,Be3,Qa5,Ne2,Nf6,f3,d6,d5,b5,Qd2,b4,Nd1,O-O,Nf4,Nbd7,Bd3,Ne5,O-O,Ba6,Nf2,Nxd3,N2xd3,Qb5,a3,b3,a4,Qb7,c3,Nd7,Rfd1,Nb6,Nc1,Nc4,Qf2,Nxe3,Qxe3,Bc4,Ra3,a5,Nfe2,Ra6,Ng3,Rb6,Nf1,Qa6,Nd2,Rfb8,Nxc4,Qxc4,Qe2,Qxe2,Nxe2,c4,Nc1', 'Bxc3,bxc3,b2', 'https://lichess.org/training/KMqqE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kMQsP', 'Blitz', 'riteshp3', 1514, 'luudziik', 1537, 'd4,d5,e3,Nf6,Nf3,h6,h3,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,g4,Nc6,Bb2,Ne4,Bd3,Re8,Bxe4,dxe4,Nd2,Qd5,Rg1,Na5,f3,exf3,Nxf3,Nc4,Rb1,Nxe3,Qe2,Nc4,g5,Nxb2,Rxb2,h5,h4,g6,Ne5,c5,Qd3,cxd4,cxd4,Qd6,Nxg6,fxg6,Qxg6+,Kf8,Qxh5,Qxd4,Rf1+,Ke7,Qh7+,Kd6,Rb3,Qe5+,Kd1,Qd4+,Kc1,Qa1+,Kd2,Qxf1,Rd3+,Kc5,Qc7+,Kb5,Rb3+,Ka6,Qd6+,Ka5', 'Qb4+,Ka6,Qa4#', 'https://lichess.org/training/kMQsP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kMQTB', 'Blitz', 'Ivan2405', 1662, 'ventim', 1665, 'e4,e5,Nf3,Nf6,Bc4,d6,Ng5,Be6,Bxe6,fxe6,Nxe6,Qe7,Nxf8,Qxf8,d3,Nbd7,Nc3,a6,Bg5,O-O-O,O-O,h6,Bh4,g5,Bg3,h5,h4,gxh4,Bxh4,Qh6,Nd5,Nxd5,Bxd8,Nf4,Bh4,Qg6,g3,Rg8,Qf3,Qe6,Qh1,Qg4,Qh2,Nf8,Kh1', 'Qf3+,Kg1,Ne2#', 'https://lichess.org/training/kMQTB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kMrCA', 'Rapid', 'nikc1950', 2105, 'Puddingsjakk', 2062, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,d6,O-O,O-O,c3,Nc6,Nbd2,Bf5,Nh4,Bg4,Re1,e5,d5,Ne7,f3,Nexd5,fxg4,Ne3,Qb3,Nxg2,Nxg2,Nxg4,Nf1,Kh8,Nfe3,f5,Nxg4,fxg4,Be3,Qd7,Rf1,d5,Qxb7,Rab8,Rxf8+,Rxf8,Qxa7,d4,cxd4,exd4,Rd1,Qd6,Bf4,Qe7,Re1,Be5,Qa3,c5,Qd3,Bxf4,Nxf4,Rb8,b3,Ra8,a4,Rb8,Qxg6', 'Qe3+,Kf1,hxg6', 'https://lichess.org/training/kMrCA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kMt15', 'Rapid', 'Kotov1972', 1673, 'Nate130', 1768, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bd6,b3,Bg4,Bb2,Nf6,Nbd2,O-O,h3,Bh5,g4,Bg6,Bxe5,Bxe5,Nxe5,Qd4,Nxg6,fxg6,O-O,Nd7,Kg2,Rf6,f4,Raf8,Nf3,Qe3,f5,gxf5,exf5,Qc5,d4,Qd6,c3,c5,d5,Ne5,Ng5,Rd8,Ne6,Qxd5+,Qxd5,Rxd5,Nxc7,Rd3,Rac1,Rf7,Ne6,Rd2+,Rf2', 'Rxf2+,Kxf2,Nd3+,Ke3,Nxc1', 'https://lichess.org/training/kMt15');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kMtUy', 'Rapid', 'nakarian10', 2073, 'NARNAR2006', 2003, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,f5,Nf3,Bxg3,hxg3,Nf6,Nbd2,O-O,Ne5,c5,c3,cxd4,exd4,Nc6,Ndf3,Qb6,Qb3,Qa5,Bd3,Ne4,Nxc6,bxc6,Ne5,c5,Bxe4,fxe4,Qd1,cxd4,Qh5,h6,Nc6,Qb6,Ne7+,Kh8,Qg6,dxc3', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/kMtUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KMUAV', 'Rapid', 'Jpros61', 1762, 'NLabMan', 1724, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,Bc5,d3,Qd6,Bxc6+,Qxc6,O-O,O-O,Nxe5,Qd6,Nf3,b6,Be3,Bxe3,fxe3,Bb7,e4,Qf6,Nd2,Qxb2,Nc4,Qd4+,Kh1,b5,Na5,Bc8,Qf3,Be6,Nc6,Qc5,Na5,Qxc2,Rfc1,Qa4,Nb3,Bxb3,axb3,Qxb3,Rxc7,Rac8,Rcxa7,Qc3,h3,b4,Rf1,Rc7,Rxc7,Qxc7,Rb1,Ra8,Qd1,Rb8,Qb3,Qe7,Kg1,Qc5+,Kf1,Kf8,Qb2,g6', 'Qh8+,Ke7,Qxb8', 'https://lichess.org/training/KMUAV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KMubq', 'Rapid', 'iran0011', 1814, 'sberzoi', 1803, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,h6,Bh4,O-O,e3,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Nd2,f5,Be2,Nd7,O-O,Nf6,f3,Bd7,fxe4,Nxe4,Nxe4,fxe4,Qc2,Bc6,Rad1,Rad8,Rd2,Qg5,Qc3,Rf6,Rxf6,gxf6,Qb3,Kh7,Bf1,f5,c5,Bd5,Bc4', 'Bxc4,Qxc4,Qxe3+', 'https://lichess.org/training/KMubq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kMvNE', 'Rapid', 'gustav_radagast', 1649, 'viviero', 1627, 'd4,e6,Nf3,c6,e3,h6,Bd3,Nf6,O-O,Bd6,c4,c5,b3,Nc6,Bb2,cxd4,exd4,Bf4,a3,d5,Ne5,Bxe5,dxe5,Nd7,f4,f6,Nd2,fxe5,fxe5,Qg5,Nf3,Qh5,Re1,O-O,Qc2,Kh8,h3,Nc5', 'Bg6,Qxg6,Qxg6', 'https://lichess.org/training/kMvNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kN59g', 'Rapid', 'Z3eem', 1628, 'sst77', 1734, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,c6,Qe2+,Ne7,Be3,Bg4,O-O-O,Nd7,h3,Bh5,g4,Bg6,h4,h6,h5,Bh7,g5,Qc7,gxh6,gxh6,Bxh6,Be4,Bg5,Bf4+,Bxf4', 'Qxf4+,Nd2,Bxh1', 'https://lichess.org/training/kN59g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kN6rH', 'Rapid', 'UncleSam', 1630, 'alekseyMishenko', 1602, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,Qe2,Be7,a4,bxa4,Rxa4,O-O,d3,d5,exd5,Nxd5,Nxe5,Nxe5,Qxe5,Bb4+,Rxb4,Nxb4,O-O,Bb7,Nc3,Nc6,Qg3,Ne7,Bg5,Qd6', 'Qxd6,cxd6,Bxe7', 'https://lichess.org/training/kN6rH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kn7Cp', 'Rapid', 'Inter-mundial-fifa', 1830, 'Guarani-RD', 1862, 'e4,h6,Nf3,g6,d4,e6,Nc3,d6,Be3,a6,Qd2,b6,Bc4,Bb7,d5,e5,g3,Bg7,Nh4,Bc8,O-O-O,Ne7,f4,exf4,Bxf4,g5,Be3,gxh4,gxh4,Ng6,Rdf1,Nd7,Qf2,Nde5,Bb3,Qe7,h5,Nf8,Rhg1,Rh7,Bd4,Bh3,Re1,Ng4,Qd2,Bxd4,Qxd4,Ne5,Re3,Bg4,Qa4+,Qd7,Qa3,Bxh5', 'Ba4,b5,Bxb5,axb5,Qxa8+', 'https://lichess.org/training/kn7Cp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kna7x', 'Rapid', 'Black-star', 1965, 'Signoretomato', 1752, 'e4,c5,Nc3,e6,g3,Nc6,Bg2,Nf6,d3,Be7,Be3,d6,h3,O-O,Nge2,Rb8,a4,b6,O-O,h6,f4,Nb4,g4,Nh7,f5,Bh4,Qd2,Ng5,Kh2,Bb7,Ng1,Qf6,Nf3,Nxf3+,Rxf3,d5,fxe6,Qxe6,exd5,Nxd5,Nxd5,Bxd5,Rf5,Bxg2,Kxg2,g6,Rf3,f5,Bxh6,Rfe8,Qc3,Rb7,Raf1,fxg4', 'Rf8+,Rxf8,Rxf8+,Kh7,Qh8#', 'https://lichess.org/training/Kna7x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KnAOY', 'Rapid', 'Ninja_650', 2088, 'emadkamel', 2061, 'd4,e6,Nf3,d5,Bf4,c5,e3,Bd6,Bg3,Nf6,c3,O-O,Bd3,Nc6,Nbd2,Re8,Qe2,e5,dxe5,Nxe5,Nxe5,Bxe5,O-O-O,c4,Nxc4,dxc4', 'Bxh7+,Nxh7,Rxd8,Rxd8,Bxe5', 'https://lichess.org/training/KnAOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kNAqX', 'Rapid', 'Robotin', 2039, 'NikolayV2', 1932, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,c4,Nf6,Nc3,e6,Nxc6,bxc6,Bd3,Be7,b3,O-O,O-O,e5,h3,Bb7,f4,Qc7,Qf3,d5,exd5,cxd5,cxd5,Nxd5,Nxd5,Bc5+,Kh1,Qd6,Bc4,Rad8,Rd1,Bd4,Rb1,Bxd5,fxe5', 'Bxf3,exd6,Bxd1', 'https://lichess.org/training/kNAqX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kNbGg', 'Classical', 'LaSiciliana', 1684, 'ronalmanggo', 1697, 'e4,d6,Nf3,Nf6,Nc3,g6,a3,Bg7,Bc4,e6,d3,Nbd7,O-O,O-O,Re1,a6,Bg5,h6,Bd2,b5,Ba2,c6,Qc1,Kh7,e5,Ne8,exd6,Nxd6,Ne4,Nxe4,Rxe4,Bb7,Rh4,Ne5,Bxh6', 'Nxf3+,gxf3,Qxh4', 'https://lichess.org/training/kNbGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kNCPq', 'Rapid', 'm0o0dy', 1796, 'StanislavHristov', 1778, 'e4,g6,d4,Bg7,Nc3,d6,Nf3,f5,exf5,Bxf5,Bd3,Bg4,h3,Bxf3,Qxf3,Nc6,O-O,Nf6,Bg5,Nxd4,Qe3,c5,Rfe1,e6,Bxf6,Qxf6,Nd5,Qf7,c3,O-O,cxd4,Bxd4,Qxe6,Qxe6,Rxe6,Rxf2,Kh2,Be5+,Kg1,Rxb2,Nf6+,Kg7,Ne4,Kf7,Bc4,Rb4,Bd5,Bxa1,Rxd6+,Kg7,Rd7+,Kh6,Bxb7,Bd4+,Kh2,Be5+,Kg1,Rb1+,Kf2,Rf8+,Ke3,Bd4+,Kd3,Rd1+,Ke2,Rff1,g4,Rfe1+,Kf3,Rd3+,Kg2,Re2+,Kf1,Rxa2', 'g5+,Kh5,Rxh7#', 'https://lichess.org/training/kNCPq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Knekf', 'Classical', 'abosari33', 1864, 'mz2020', 1958, 'e4,e6,d4,d5,Nd2,c5,c3,cxd4,cxd4,dxe4,Nxe4,Bd7,Nf3,Nf6,Qd3,Nxe4,Qxe4,Bc6,Qe3,Bxf3,gxf3,Nc6,Bb5', 'Qa5+,Kf1,Qxb5+', 'https://lichess.org/training/Knekf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KNEve', 'Rapid', 'Sabbagh', 1856, 'capablancazz', 1831, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Nf6,d3,d5,exd5,exd5,Bb5,Be7,Ne5,O-O,Bxc6,bxc6,Nxc6,Qc7,Nxe7+,Qxe7+,Qe2,Qc7,O-O,Bf5,Qf3,Bg4,Bf4,Qa5,Qg3,d4,Ne4,Nxe4,Qxg4,Nf6,Qg3,Qb6,Bh6', 'Nh5,Qg5,Qxh6,Qxh6,gxh6', 'https://lichess.org/training/KNEve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KNf6y', 'Blitz', 'chesslooover', 2234, 'CM chesslatte64', 2385, 'd4,Nf6,Bf4,b6,e3,Bb7,Nf3,g6,Nc3,Bg7,h4,O-O,h5,Nxh5,Rxh5,gxh5,Ng5,h6,Nh3,Qe8,Qxh5,f5,Qh4,Qg6,Bxc7,Nc6,Bf4,e5,dxe5,Nxe5,O-O-O,Rac8,Bh2,Qg4,Qe7,Rfe8,Qa3,Nc4,Bxc4+,Qxc4,Nf4,Bxc3,bxc3,Qxc3,Qxc3,Rxc3,Rxd7,Be4,Nh5,Rxc2+,Kd1,Rec8', 'Nf6+,Kh8,Rh7#', 'https://lichess.org/training/KNf6y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KNFSs', 'Rapid', 'DoktorSredin', 1948, 'da4ceara', 2020, 'e4,c5,Nf3,Nc6,Bb5,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Ba4,Qa5+,c3,Ba6,Bd2,Qe5,Bc2,Nf6,f4,Qb5,Bc1,h5,Na3,Qc5,Qf3,d5,Be3,Qa5,b4,Qxa3,Bc1,dxe4,Bxe4,Nxe4,Bxa3,Bxc3+,Kd1,Bxa1,Qxe4,O-O,Ke1,Bb5,Kf2,Rad8,Rxa1,Rd2+,Kg3,Rd3+,Kh4,Rxa3,f5,Rc3,fxg6', 'Rc4,Qxc4,Bxc4', 'https://lichess.org/training/KNFSs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('knhsK', 'Classical', 'AZ54', 1763, 'Maloi555', 1851, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Bb4,a3,Bxc3+,bxc3,O-O,e3,Nbd7,c5,c6,Nf3,h6,Bh4,Qa5,Qc2,Ne4,Nd2,Nxc3', 'Nb3,Qa4,Qxc3', 'https://lichess.org/training/knhsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('knHTp', 'Blitz', 'pekasp', 1989, 'ltorres140662', 2030, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Be3,Be7,Nd5,O-O,f3,a6,Bb6,Qe8,Nbc3,Nxd5,Nxd5,Bd8,Nc7,Bxc7,Bxc7,Nd4,Bxd6,Bd7,Bxf8,Qxf8,Bd3,Qc5,Qd2,Bb5,O-O-O,Rc8,c3,Ba4,Rde1,Qa5,Kb1,Nb3,axb3,Bxb3,Kc1,Qa1+,Bb1,a5,Qd7', 'Rxc3+,bxc3,Qxc3+,Bc2,Qxc2#', 'https://lichess.org/training/knHTp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kNkkI', 'Blitz', 'vladkan', 1748, 'RETUTCA', 1625, 'e4,e5,Nf3,Nf6,Bc4,Nc6,Nc3,Be7,d3,d6,a4,Bg4,h3,Bh5,g4,Bg6,Bg5,Nd4,Nxd4,exd4,Ne2,c5,Nf4,a6,Bd5,Nxd5,Nxd5,Bxg5,f4,Bh4+,Ke2,h6,f5,Bh7,Qf1,O-O,b3,Qg5,Qf3,g6,f6,Qe5,Rag1,b5,axb5,axb5,Rg2,c4,Rhg1,cxb3,g5,hxg5,Rxg5,Bxg5,Rxg5,Qh2+,Rg2,Qe5,cxb3,Ra2+,Kf1,Rfa8,Ne7+,Kh8,Rxa2,Rxa2,Qg4,Ra1+,Kg2,Ra2+,Kf1,Qh2', 'Qc8+,Bg8,Qxg8#', 'https://lichess.org/training/kNkkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KNKus', 'Rapid', 'Vivek_sharma_m11', 2150, 'Vladismen', 2098, 'e4,c5,Nf3,e6,Nc3,a6,d4,cxd4,Nxd4,Qc7,Be3,Bb4,Qd3,Nf6,Be2,Nxe4,O-O,Nxc3,bxc3,Qxc3,Qe4,d5,Qh4,O-O,Bd3,f5,Ne2,Qa3,Rfb1,Be7,Qg3,Nc6,Rd1,Rf6,Nd4,Rg6,Qc7,Bd6,Qb6,Bc5,Nxc6,Bxb6,Ne7+,Qxe7,Bxb6,Qg5,g3,e5,Bf1,Rxb6,Rxd5,f4,Bc4,fxg3', 'Rd8#', 'https://lichess.org/training/KNKus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kNlLB', 'Blitz', 'luchodel56', 1641, 'Meno1606', 1619, 'e4,c5,Bc4,d6,Nc3,Nc6,Nf3,Nf6,d4,cxd4,Nxd4,Nxd4,Qxd4,e5,Qd1,Be6,Bb3,Bxb3,axb3,a6,O-O,Be7,f4,exf4,Bxf4,O-O,Nd5,Nxd5,exd5,Bf6,c3,Qb6+,Kh1,Rfe8,b4,Be5,Qg4,Bxf4,Rxf4,Qe3,Raf1,Re7,R4f3,Qe1,h3,Qe5,h4,Rae8,h5,g6,hxg6,fxg6,Qh4,Qxd5,Qh6,Re1', 'Rf8+,Rxf8,Qxf8#', 'https://lichess.org/training/kNlLB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kNmfC', 'Rapid', 'thomassowell123', 2229, 'blerghbeast', 2176, 'e4,d5,exd5,Nf6,Nf3,Bg4,Be2,Qxd5,O-O,Nc6,c4,Qd6,Re1,O-O-O,Nc3,e5,Nb5,Qd7,Nxa7+,Nxa7,Nxe5,Bxe2,Qxe2,Qd4,Nxf7,Re8', 'Qxe8+,Nxe8,Rxe8+,Kd7,Rd8+,Ke7,Rxd4', 'https://lichess.org/training/kNmfC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kNmml', 'Rapid', 'FiLoX', 1633, 'Mamontov-Sasha', 1670, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,e3,Bb4,Qb3,Bd6,c5,Be7,Be2,a6,O-O,O-O,Bd2,b6,cxb6,cxb6,Rab1,b5,a3,h6,Qc2,b4,axb4,Nxb4,Qb3,Nc6,Ne5,Qc7,f4,Nxe5,fxe5,Ne4,Nxe4,dxe4,Rf4,Bg5,Rxe4,Bb7,Rg4,Qc6,Bf3,Qb5,Qxb5,axb5,Bxb7,Rab8,Bf3,f6,Kf2,f5,Rg3,g6,Bb4,Rf7,Ke2,Kg7,Rf1,f4,exf4,Bxf4,Rh3,Rc8,Bc5,Bxe5,dxe5,Rxc5,Kf2,Rc2+,Kg1,Rxb2,Be4,Rxf1+,Kxf1,Rb4,Re3,Rd4,Kf2,b4,Kf3,g5,Rd3,Rc4,Rd7+,Kh8,Rh7+,Kg8,Rxh6,Kg7,Rg6+,Kf7,Rxg5,Rc3+,Kf4,b3,h4,b2,h5', 'Rc4,Kf3,Rxe4', 'https://lichess.org/training/kNmml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Knne8', 'Rapid', 'Vitalylim', 1934, 'polivai', 2031, 'e4,c5,b4,cxb4,a3,bxa3,d4,Nc6,c3,d6,Nxa3,Nf6,Bd3,Bg4,f3,Bd7,Nh3,Bxh3,gxh3,e6,Rg1,Nh5,Be3,Qh4+,Bf2,Qxh3,Kd2,Qxh2,Qe2,Nf4,Qe3,Nxd3,Kxd3,g6,Rh1,Ne5+,Ke2,Qg2,Rag1,Qxf3+,Qxf3,Nxf3,Kxf3,h5,Bh4,a6,Bf6,Rg8,Rxh5,Be7,Bxe7,Kxe7,Rh2,Rac8,Rc2,b5,Rb1,Rh8,Kg4,Rh5,Rf1,Rch8,Rcf2,f5+,exf5,exf5+,Kf4,Kf6,Re1,Rh4+,Ke3,Rc8,Kd2,b4,Nc2,bxc3+,Kd3,d5,Re5,Rh3+,Ke2,Rd8,Rf3,Rh2+,Kd3,Rc8,Rxd5,Rd2+,Ke3,Rxc2,Rd6+,Kf7,d5,Rd2,Rxa6,Re8+,Kf4,Rd4+,Kg3,Rxd5,Rc6,Rd4,Rfxc3,Rg4+,Kf3,Re6,Rc8,Kf6,Rf8+,Kg5,Rg8,f4', 'Rc5+,Kh6,Kxg4', 'https://lichess.org/training/Knne8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KnNuo', 'Blitz', 'unluckyj', 1934, 'Merkfrom', 1931, 'e4,e5,Bc4,Nf6,d3,c6,c3,d5,exd5,cxd5,Bb5+,Bd7,Qb3,Nc6,Nf3,Bd6,Bg5,a6,Bxc6,Bxc6,O-O,O-O,Nbd2,h6,Bh4,Re8,Rae1,g5,Bg3,Nd7,h4,g4,Nh2,f5,f3,h5,fxg4,fxg4,Rf5,Nf6,Bxe5,Bxe5,Rexe5,Rxe5,Rxe5,Qd6,Rg5+,Kh7,Ne4,dxe4', 'Qf7+,Kh8,Qg7#', 'https://lichess.org/training/KnNuo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KNNvw', 'Rapid', 'Aramehdi', 1689, 'psvilela', 1772, 'e4,d6,Bc4,Nf6,Nc3,g6,Nf3,Bg7,Ng5,O-O,h4,Nc6,d4,e5,d5,Ne7,f3,a6,f4,exf4,Bxf4,Nh5,Bd2,b5,Be2,Ng3,Rh3,Nxe2,Qxe2,Bxh3,gxh3,Re8,h5,Nf5,Qd3,Bh6,O-O-O,Bxg5,exf5,Bxd2+,Rxd2,Re1+,Nd1,Qg5,hxg6,hxg6,fxg6,Qxg6,Qf3,Rae8', 'Rg2,Qxg2,Qxg2+', 'https://lichess.org/training/KNNvw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('knnWX', 'Rapid', 'sumitan', 2177, 'tbunji', 2250, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,g3,d6,Bg2,Nbd7,O-O,e5,e3,Re8,b3,c6,Bb2,e4,Nd2,d5,Rc1,Nf8,b4,Ne6,Qb3,Ng5,h4,Ne6,a4,a6,Rc2,Qd6,Rfc1,Nc7,b5,axb5,cxb5,Bd7,Ba3,Qe6,Bc5,Reb8,Rb2,Bf8,Bxf8,Rxf8,Qc2,Rfc8,Qb1,Nce8,bxc6,Bxc6,Nb3,Nd6,Nc5,Qe7,Bf1,Ra5,Bb5,Bxb5,Nxb5,Nc4,Rb4,Nd2,Qb2,Nf3+,Kf1,Nd7,Nxb7', 'Rxc1+,Qxc1,Qxb4', 'https://lichess.org/training/knnWX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kNp0w', 'Rapid', 'MohammedHassanin30', 2170, 'Beauvain', 2027, 'e4,e5,Nf3,d6,d4,exd4,Bc4,Be7,Nxd4,c5,Nb3,Nf6,Nc3,O-O,O-O,Nc6,f4,a6,Be3,Bg4,Qe1,b5,Bd5,Rc8,h3,Be6,f5,Bxd5,exd5,Nb4,Qd2,c4,a3,cxb3,axb4,bxc2,Rfc1,Rc4,Rxc2,Rxb4,Rxa6,Ne4,Nxe4,Rxe4,Qd3,Re5,Bf4,Re1+,Kf2,Rh1,Qxb5,Bh4+,g3', 'Rh2+,Kf3,Rxc2', 'https://lichess.org/training/kNp0w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('knPIf', 'Blitz', 'sole1x', 1873, 'Perkins_Bayron', 1955, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,Bxf6,Bxf6,e3,c6,Nf3,Nd7,Bd3,O-O,Qc2,h6,O-O,dxc4,Bxc4,c5,Rfd1,cxd4,Nxd4,Qe7,Ndb5,Ne5,Bb3,Bd7,Nd6,Bc6,Nde4,Rfd8,Rxd8+,Rxd8,Nxf6+,Qxf6,Rd1,Rc8,Ne4,Qg6,Ng3,Qg4,Qe2,Qh4,e4,Ng4,h3,Nf6,Kh2,Qf4,Rd3,Nxe4,Re3,Nxf2,Kg1,Nxh3+,gxh3,Qh4,Kh2,Rd8,Rd3,Rd4,Rxd4,Qxd4,Bc2,h5,Qd3,Qf4', 'Qd8+,Be8,Qxe8#', 'https://lichess.org/training/knPIf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KnQQa', 'Rapid', 'youhourta05', 1989, 'sawyas', 2015, 'd4,Nf6,Bf4,e6,Nf3,b6,e3,Bb7,Bd3,Be7,Nbd2,O-O,c3,d6,Qc2,h6,Rg1,c5,h3,Nc6,g4,cxd4,exd4,Nd5,Bh2,Rc8,Qd1,Bg5,Ne4,Bf4,g5,Bxh2,Nxh2,hxg5,Nxg5,g6,Nxe6,fxe6,Bxg6,Qh4,Qd2,Nf6,Bh5+,Kh8', 'Qh6+,Nh7,Qg7#', 'https://lichess.org/training/KnQQa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KNqv2', 'Blitz', 'GM Plaskett7', 2530, 'Latiza82', 2345, 'e4,c5,Nc3,d6,Nf3,Nc6,d4,cxd4,Nxd4,Bd7,Bc4,Nf6,Bb3,g6,f3,Bg7,Be3,h5,Qd2,a6,O-O-O,Rc8,Kb1,b5,Rhe1,Na5,Bg5,Nc4,Bxc4,bxc4,h3,Rb8,Ka1,O-O,Bh6,Qb6,Rb1', 'Bxh6,Qxh6,Qxd4', 'https://lichess.org/training/KNqv2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Knria', 'Rapid', 'BlunderParadise', 1850, 'Roy_Batty', 1921, 'd4,c6,Bf4,d5,e3,Bf5,c4,e6,Nc3,Bd6,Qb3,Bxf4,exf4,Nd7,cxd5,Ne7,d6,Nd5,Nxd5,exd5,Qe3+,Kf8,Nf3,Qb6,Qe7+,Kg8,O-O-O,Qa5,Ng5,Rf8,Bd3,Bxd3,Rxd3,Qxa2,Qxd7,Qa1+,Kc2,Qxh1,Nxf7,Qxg2,Qe6,Rxf7,Qe8+,Rf8,Qe6+,Rf7,Qe8+,Rf8,Qe6+,Rf7,d7,h6,d8=Q+,Kh7,Qh4,Rhf8,Qg3,Qf1,Qgg6+,Kg8,Kc3,Qc1+,Kb3,Qc4+,Ka3,b5,Qxg7+,Kxg7', 'Rg3+,Kh7,Qg6+,Kh8,Qxh6+,Rh7,Qxf8#', 'https://lichess.org/training/Knria');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('knsuT', 'Rapid', 'lucenadream', 1950, 'Alex314', 1815, 'c4,e6,g3,d5,Nf3,Nf6,Bg2,d4,d3,Bb4+,Bd2,c5,a3,Bxd2+,Nbxd2,Nc6,O-O,a5,e3,e5,exd4,exd4,Re1+,Be6,Ne5,Nxe5,Rxe5,Qc7,Qa4+,Qd7,Qb5,Qxb5,cxb5,O-O,Rxc5,Rac8,Rxc8,Rxc8,Bxb7,Rc2,Ne4,Nxe4,Bxe4,Rxb2,a4,f5,Bc6,Kf8,Re1,Kf7,Kg2,Rb4,Re5,Rxa4', 'b6,Rb4,b7', 'https://lichess.org/training/knsuT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KNtr9', 'Blitz', 'awesome_mule', 2111, 'German2269', 2178, 'd4,d5,Nf3,Bg4,Ne5,Bh5,g4,Bg6,Nxg6,hxg6,Bg2,e6,Nc3,c5,e4,cxd4,Qxd4,Nc6,Qa4,d4,Ne2,e5,f4,Qh4+,Ng3,f6,Bf3,Bd6,f5,Ne7,Bd2,gxf5,gxf5,Nxf5,exf5,e4,O-O-O,exf3,Rde1+,Kf8,Ne4,Be7,Rhf1,Qh3,Qb3,Ne5,Bb4,Re8,Nd6,f2,Rxf2,Qxb3,axb3,Rd8,Nxb7,Bxb4,Rxe5,fxe5,Nxd8,Rh6,Ne6+,Kf7,Ng5+,Ke7,Ne4,Rh4,f6+,gxf6,Nxf6,Ke6,Ne8,Ba5,Ng7+,Kd5,Kd1,Rh7,Nf5,e4,Ne3+,dxe3,Rf5+,Kd4,Rxa5,Rxh2', 'c3+,Kd3,Rd5#', 'https://lichess.org/training/KNtr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KNuON', 'Classical', 'Mess-Mend', 1820, 'pchela2000', 1836, 'e4,c5,Nf3,Nc6,d4,e6,Bb5,a6,Bxc6,bxc6,O-O,d5,e5,h6,Be3,cxd4,Nxd4,Qc7,c3,Ne7,Qa4,Bd7,Qc2,Qxe5,Nd2,Ng6,Rae1,Qc7,f4,Bd6,g3,c5,f5,cxd4,fxg6,dxe3,gxf7+,Ke7,Nb3,Ba4,Qg6,Bxb3,Qxg7,Rhf8,Rxe3,Bc5', 'Qf6+,Kd7,Qxe6+,Kd8,Qe8+,Rxe8,fxe8=Q#', 'https://lichess.org/training/KNuON');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kNVGV', 'Blitz', 'Has1257', 1994, 'Jemo66', 1959, 'd4,e6,Bf4,b6,e4,Bb7,Bd3,d6,f3,Nd7,Nd2,h6,Nh3,Ne7,O-O,Ng6,Be3,e5,d5,Be7,Qe2,Bf6,Ba6,Qc8,Bxb7,Qxb7,c3,a6,b4,Qc8,Nb3,Qd8,Rac1,O-O,c4,Qe7,Qf2,Bg5,Nxg5,hxg5,c5,bxc5,bxc5,Nf4,Rfd1,Rfb8,Kh1,a5,g3,Nh5,cxd6,cxd6,Ba7,Rb7,Nxa5,Rb5,Nc6,Qf6,a4,Rb3,Rb1,Rxf3,Qg2,g4,Rf1,Rxf1+,Rxf1,Qh6,Ne7+,Kf8,Nf5,Qg5,Be3,Qg6,Rf2,Rxa4,Rb2,Ra8,Qf1,Nhf6,Qb5,Rb8,Qxb8+,Nxb8,Rxb8+,Ne8,Bb6,Qg5,Be3,Qh5,Bb6,g6', 'Rxe8+,Kxe8,Ng7+,Ke7,Nxh5', 'https://lichess.org/training/kNVGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KNx2H', 'Rapid', 'verzini', 1708, 'kont3', 1679, 'd4,d5,Nc3,Nf6,Bf4,Bf5,Nf3,h6,e3,e6,Bd3,Bxd3,Qxd3,Be7,Be5,O-O,O-O-O,Nc6,e4,dxe4,Nxe4,Nxe4,Qxe4,Nxe5,Nxe5,Bd6,f4,Qh4,g3,Qh3,g4,Bxe5,Qxe5,Qxg4,Rdg1,f6,Qxc7,Rf7', 'Qxf7+,Kxf7,Rxg4', 'https://lichess.org/training/KNx2H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KnYyZ', 'Blitz', 'dafedi', 1865, 'Gh_Andik', 1887, 'e4,g6,d4,Bg7,Nf3,e6,Bd3,Ne7,O-O,O-O,Be3,c6,Qd2,d5,e5,Nd7,Bh6,c5,Bxg7,Kxg7,c3,Qb6,b3,a5,Na3,a4,bxa4,Rxa4,Rfb1,Qa5,Nb5,cxd4,cxd4,Qxd2,Nxd2,b6,Nd6,Ba6,Bxa6,Rxa6,Rb2,Nc6,Nf3,f6,exf6+,Rxf6,Ne8+,Kf7,Nxf6,Nxf6,Rab1,Ne7,Ne5+,Kg7,Rxb6,Rxa2,Rb7,Kf8,Rb8+,Ne8,h3,Nf5,Nd7+,Ke7,Ne5,Ned6,R1b6,Ne4,R8b7+,Kf6,Rf7+,Kg5,Rxh7,Nxd4,Rbb7,Ra1+,Kh2,Nxf2,Rbf7', 'Rh1+,Kg3,Ne4#', 'https://lichess.org/training/KnYyZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kNZyZ', 'Rapid', 'a_farag11', 2380, 'Martin_ten_Huf', 2412, 'Nf3,Nf6,c4,g6,Nc3,Bg7,d4,O-O,e4,d6,Be2,e5,dxe5,dxe5,Qxd8,Rxd8,Bg5,Re8,Rd1,c6,O-O,Nbd7,b4,a5,a3,Nf8,Bh4,Nh5,b5,Ne6,Bg3,Nxg3,hxg3,Nd4,Rd3,Be6,bxc6,bxc6,Rc1,Bxc4,Re3,Be6,Ng5,Bb3,Bf1,a4,Ne2,Bf8,Nxd4,exd4,Rf3,h6,Nh3,Bxa3,Rxc6,Bb2,Nf4,Rxe4,Bd3,Re1+,Kh2,Bc3,Nxg6,Re6,Rxe6,Bxe6,Ne7+,Kf8,Ng6+,Ke8,Bb5+,Kd8,Nf4,a3,Nxe6+,fxe6', 'Rf8+,Kc7,Rxa8', 'https://lichess.org/training/kNZyZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ko2bJ', 'Rapid', 'Leone123', 1900, 'nestorcapitan', 1889, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,O-O,e4,d6,d5,exd5,cxd5,c6,a3,Bxc3+,bxc3,cxd5,exd5,b6,c4,Bb7,Bb2,Nbd7,Bd3,Nc5,Bc2,Re8+,Ne2,Ba6,O-O,Bxc4,Re1,Bxd5', 'Bxf6,Qxf6,Qxd5', 'https://lichess.org/training/ko2bJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KO3Gp', 'Rapid', 'David3712', 1669, 'jalalk97', 1763, 'e4,e6,d4,d5,Nc3,c5,dxc5,Bxc5,e5,Nc6,Nf3,Bd7,Be2,Qb6,O-O,Nge7,Na4,Qa5,c3,Nxe5,Nxe5,Bxa4,b3,Qxc3,Bd2,Qxe5,bxa4,Bd6,g3,O-O', 'Bf4,Qf6,Bxd6', 'https://lichess.org/training/KO3Gp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kO4Ig', 'Rapid', 'kont3', 1666, 'Lucaray', 1636, 'e4,e5,Bc4,Nf6,d3,Nc6,a3,Bc5,h3,d5,exd5,Nxd5,Nf3,O-O,O-O,Nf6,Nc3,Bxh3,gxh3,Nh5,Nxe5,Nxe5,Qxh5,Qf6,Bd5,c6,Be4,Rae8,Qg5,Qe6,Be3,Bxe3,fxe3,h6,Qf5,Qxf5,Bxf5,b5,b3,a6,e4,f6,Ne2,Nf7,Nf4,Ne5,d4,g6,Bxg6,Nxg6,Nxg6,Rf7,Kh2,Rxe4,c3,Re2+,Kh1,Kh7,Nf4,Re3,Rac1,Rg7,Rg1,Rxg1+,Rxg1,Rxc3,Kh2,Rxb3,Rg3,Rb2+,Kg1,a5,Rg6,b4,axb4,axb4,Rxf6,Rb1+,Kg2,b3,Rxc6,b2,Nd3', 'Rg1+,Kxg1,b1=Q+', 'https://lichess.org/training/kO4Ig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KO6QV', 'Rapid', 'thehooglyboogly', 1865, 'R4ttlesnake', 2030, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,e6,Nf3,Nbd7,e3,Bb4,c5,Nh5,Bg3,Nxg3,hxg3,Qa5,Qc2,Nf6,Bd3,Bxc3+,Qxc3,Qxc3+,bxc3,h6,a4,O-O,a5,Rb8,Rb1,Nd7,Kd2,b6,axb6,axb6,cxb6,Nxb6,g4,f6,Nh4,Bd7,f4,Na4,Ng6,Rfd8,Ne7+,Kf7,Ng6,Rb2+,Rxb2,Nxb2,Nh4,Nxd3,Kxd3,Rh8,Rb1,g5,Nf3,gxf4,exf4,h5,g5,Bc8,Ra1,Re8,Ra7+,Kg6', 'Nh4#', 'https://lichess.org/training/KO6QV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KobF0', 'Rapid', 'asu76', 1998, 'Machin-Trucmuche', 1971, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Nc3,c6,Ne5,Nf6,Bd3,O-O,O-O,Nbd7,Bg5,Nxe5,dxe5,Bxe5,Re1,Bc7,Qf3,Qd6,g3,Bg4,Qg2,Rfe8,f3,Bd7,Ne2,h6,Bxh6,gxh6,g4,c5,g5,hxg5,Qxg5+,Kf8,Qh6+,Ke7,Ng3+,Kd8,Rxe8+,Nxe8,Qh8,c4,Bf5,Bb6+,Kf1,Kc7,Rd1,Qc5,Qe5+,Kc6', 'Bxd7+,Kxd7,Rxd5+', 'https://lichess.org/training/KobF0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KobQB', 'Classical', 'Turkeyeng', 2058, 'IM MassterofMayhem', 2380, 'e4,c5,Nf3,d6,c4,Nf6,Nc3,Bg4,d3,Nc6,Be2,e6,O-O,Be7,a3,a6,Rb1,Rb8,b4,cxb4,axb4,b5,cxb5,axb5,d4,Bxf3,Bxf3,d5,exd5,exd5,Bf4,Rb6,Qd3,Nxb4,Rxb4,Bxb4,Re1+,Be7,Nxb5,O-O', 'Bc7,Qd7,Bxb6', 'https://lichess.org/training/KobQB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kocbF', 'Bullet', 'Diablo48', 1863, 'Herman0', 1853, 'c4,Nf6,Nc3,g6,d3,Bg7,e4,d6,g3,O-O,Bg2,c5,Nge2,Nc6,O-O,Rb8,h3,a6,Kh2,b5,Nd5,Ne8,Rb1,Nc7,b3,Ne6,f4,Ned4,Nxd4,Nxd4,Bb2,bxc4,dxc4,Bd7,f5,a5,g4,a4,Bxd4,Bxd4,g5,axb3,axb3,e6,f6,exd5,Qe1,Kh8,Qh4,dxc4,Qh6,Rg8,Rf4,Qf8', 'Qxh7+,Kxh7,Rh4+,Qh6,Rxh6#', 'https://lichess.org/training/kocbF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KOCvo', 'Rapid', 'LIS25', 1908, 'Andre11', 1904, 'd4,d5,Nc3,c6,e4,e6,e5,Nd7,Nf3,Ne7,Ne2,Nf5,c3,Nb6,g3,c5,Bh3,Ne7,O-O,cxd4,cxd4,Nc6,Nc3,Nd7,Be3,b6,Qc2,Ba6,Rfe1,Rc8,Rac1,Be7,Qb3,Bc4,Qa4,a6,Qc2,Nb4,Qd2,Nxa2,Nxa2,Bxa2,Bg5,O-O', 'Rxc8,Qxc8,Bxe7', 'https://lichess.org/training/KOCvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KOcwk', 'Rapid', 'satish2001', 1684, 'araz28', 1660, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,Nd4,c3,Nxf3+,Qxf3,d6,Re1,Be7,h3,O-O,Qg3,Kh8,f4,exf4,Qxf4,Be6,Nd2,Nh5,Qe3,b6,Bd5,c6,Bxc6,Rc8,Ba4,d5,exd5,Bg5,Qf3,Bxd5,Qxh5,Ba8,Bc2,Qd5,Nf3', 'Be3+,Rxe3,Qxh5', 'https://lichess.org/training/KOcwk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KoDdV', 'Classical', 'maxim001454', 1755, 'Sajankumar', 1741, 'd4,d5,Nc3,Nf6,Nf3,b6,Bg5,e6,Ne5,h6,Bh4,Be7,e3,Qd6,Nb5,Qb4+,c3,Qxb2,Nxc7+,Kd8,Nxa8,Qxc3+,Ke2,Qb2+,Kf3,g5,Nxf7+,Ke8,Nxh8,gxh4,Ng6,Ne4,Nxe7,Qxf2+,Kg4,e5+,Nxc8,h5+,Kxh5,Qf5+,Kxh4', 'Qg5+,Kh3,Nf2#', 'https://lichess.org/training/KoDdV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kODJD', 'Rapid', 'alidrh', 1893, 'Solovino2000', 2007, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Bd7,Nf3,Bc6,Ng3,Nf6,Be2,Bd6,O-O,Nbd7,c4,h5,Bg5,Be7,Ne5,Nxe5,dxe5,Ne4,Bxe7,Qxe7,Bf3,Rd8,Qb3,Nxg3,Bxc6+,bxc6,Qxg3,O-O,Qf3,Qg5,Rfe1,c5,Qc6,Rd2,Qxc5,Rxb2,Qxc7,Qf4,Qxa7,Qxc4,h3,Rfb8,a4,Qc2,a5,R8b7,Qe3,R7b3,Qe4,Qxf2+,Kh2,h4,a6,Qg3+,Kh1,Qf2,a7', 'Rxh3+,gxh3,Qh2#', 'https://lichess.org/training/kODJD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KOHXs', 'Blitz', 'CM Marxivsko', 2021, 'w010Waleed', 2129, 'e4,e6,d4,d5,Nc3,c5,Nf3,Nc6,Bb5,dxe4,Nxe4,Nf6,Nxc5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/KOHXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KOiI2', 'Rapid', 'Rat-taupe-nu', 1706, 'giolab17', 1625, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,Bg7,Nf3,O-O,e3,b6,cxd5,Nxd5,Bd3,c5,Be4,Bb7,O-O', 'Nxc3,bxc3,Bxe4', 'https://lichess.org/training/KOiI2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KoIp2', 'Blitz', 'gbm95', 1529, 'srcg', 1517, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,h3,Nf6,d3,O-O,a3,a5,a4,Qe7,b3,Be6,Ba3,Bxa3,Nxa3,Nd4,c3,Bxc4,Nxc4,Ne6,Ne3,c6,Nf5,Qd7,Re1,Nf4,d4,Nxe4,Rxe4,Qxf5,Qc2,Qg6,dxe5,dxe5,Nxe5', 'Qxg2#', 'https://lichess.org/training/KoIp2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KOJQl', 'Classical', 'DimaEpic', 2099, 'HelloHello11', 1959, 'e4,e5,d4,exd4,Nf3,Nc6,Nxd4,Qh4,Nc3,Bb4,Nb5,Bxc3+,Nxc3,Nf6,g3,Qg4,Qxg4,Nxg4,Nb5,Kd8,Bf4,d6,f3,Nge5,O-O-O,Bd7,Bxe5,Nxe5,f4,Ng4,Nc3,Nf2,Bg2,Nxh1,Bxh1,Bg4,Rd4,Ke7,Nd5+,Kd7,f5,c6,Ne3,Be2,c4,f6,g4,h5,g5,Kc7,Kd2,Bg4,Bg2,fxg5,h3,Bxh3,Bxh3,g4,Bg2,g3,Nf1,h4,Bh3,Rag8,Ne3,g5,Ng4,g2,Bxg2,h3,Bf3,h2,Nf2,g4,Bg2,g3,Nh1,Rg4,Rd3,Rhg8,Ke3,Re8,Rd1,Re5,Rd2,b5,cxb5,cxb5,Bf3,Rg5,Kf4,Rg8,Nxg3,Rh8,Rd1,Rc5,Rd2,Rc1,Nh1,Rg1,Rf2,Rh3,f6,Kd8,e5,dxe5+,Kxe5,Rxf3,Rxf3,Rxh1,f7,Re1+,Kd4,h1=Q,f8=Q+,Kc7,Qc5+,Kd7,Rf7+,Kd8,Qc7+,Ke8', 'Qd7#', 'https://lichess.org/training/KOJQl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kOkLP', 'Rapid', 'justheretolearn', 1706, 'Argentina555', 1741, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c3,a6,Ba4,b5,Bc2,h6,d4,exd4,cxd4,d6,d5,Ne5,Nxe5,dxe5,Nc3,Ng6,Qf3,Bc5,Be3,Bd4,Bxd4,exd4,Ne2,Ne5,Qf4,Ng6,Qg3,Qf6,O-O,O-O,Qxc7,Bg4,f3,Rac8,fxg4,Qxf1+,Rxf1,Rxc7,Nxd4,Rc4,Rd1,Nf4,Bb3', 'Rxd4,Rxd4,Ne2+,Kf2,Nxd4', 'https://lichess.org/training/kOkLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kOKMp', 'Rapid', 'smallman', 1738, 'slava_', 1780, 'e3,Nf6,b3,e6,Bb2,b6,Qe2,Bb7,Nc3,Be7,O-O-O,d5,Nf3,c5,h3,a5,g4,Ba6,d3,b5,Ne5,b4,Na4,Bb5,g5,Nfd7,h4,Nxe5,Bxe5,Bxa4,bxa4,Qd7,Bxg7,Rg8,Bh6,Qxa4,e4,Qxa2,exd5,Qxd5,f3,Qa2,Bh3,a4,Kd2,Qd5,f4,a3', 'Bg2,Qd4,Bxa8', 'https://lichess.org/training/kOKMp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KolEp', 'Rapid', 'Brzlbrmpft', 1877, 'quaz3', 1767, 'd4,d5,c4,c6,Nf3,Bg4,Bg5,h6,Bh4,Qd6,c5,Qc7,Nc3,e6,Ne5,Bf5,Bg3,Qd8,e3,Nd7,Be2,Ngf6,Bh4,Be7,Bxf6,Nxf6,O-O,Nd7,Bd3,Bxd3,Qxd3,Nxe5,dxe5,Bxc5,f4,Qb6,Rfe1,Qc7,f5,O-O-O,Rf1,Qxe5,Rae1,exf5,Rxf5,Qe6,Na4,Bb6,Nxb6+,axb6,Rf4,f6,Ra4,Kc7,Ra7,Ra8,Qa3,Rxa7,Qxa7,Rb8,Qa3,Qd6,Qd3,Re8,Qg6,Re7,Qc2,Rd7,Qc3,Qc5,Qd2,Qa5,Qf2,Qxa2,Qf4+,Kc8,Qb4,Qa5,Qh4,Qb5,Qf2,Qc5,Ra1,Re7,Ra8+,Kc7,Qg3+,Qd6', 'Rc8+,Kd7,Rd8+,Kxd8,Qxd6+', 'https://lichess.org/training/KolEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kOLOz', 'Rapid', 'Pasht3t', 1687, 'Armand_BatresRBSD', 1707, 'e4,c5,Nf3,e6,d4,Qc7,dxc5,Bxc5,b3,Qb6,Bb2', 'Bxf2+,Kd2,Qe3#', 'https://lichess.org/training/kOLOz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kom3O', 'Blitz', 'LexeidSt', 2200, 'speedstar19', 2308, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,f4,c5,c3,Nc6,Nf3,cxd4,cxd4,Qb6,Nc3,Bd7,O-O,Nxd4,Be3,Bc5,Bxd4,Bxd4+,Kh1,Bxc3,Qe2+,Be6,Bb5+,Kf8,bxc3,h6,Ne5,Re8,Bxe8,Nxe8,f5,Bc8,Rae1,Nd6,Ng6+,Kg8,Qe8+,Nxe8', 'Rxe8+,Kh7,Rxh8#', 'https://lichess.org/training/kom3O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KOM94', 'Rapid', 'alireza2018', 1825, 'HiroTana', 1830, 'e4,c5,c3,Nc6,Nf3,e5,Bb5,d6,Bxc6+,bxc6,d4,cxd4,cxd4,exd4,Nxd4,Bd7,Nc3,Nf6,Bg5,Be7,O-O,O-O,f4,h6,Bh4,c5,Nf3,Bg4,h3,Bh5,g4,Bg6,f5,Bh7,Bxf6,Bxf6,Nd5,Re8,Qc2,Rb8,Rab1,Bd4+,Nxd4,cxd4,Rbe1,Qh4,Kg2,h5,gxh5,Qxh5,b3,Qg5+,Kh2,Qh4,Rg1,Bxf5,Qg2,Bg6,Qg4,Qxg4,Rxg4,Re5,h4,Rbe8,Reg1,Rxe4,Rxe4,Rxe4,h5,Bxh5', 'Nf6+,Kf8,Nxe4', 'https://lichess.org/training/KOM94');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('komsF', 'Rapid', 'ahim6591', 1618, 'RasLars', 1733, 'e4,e6,d4,d5,e5,c5,c3,Nc6,f4,cxd4,cxd4,Nge7,g4,Ng6,Nf3,Bb4+,Nc3,Qa5,Bd2,O-O,a3,Bxc3,bxc3,Qc7,h3,a5,Bd3,Nge7,a4,b6,Bb5,Ba6,Qe2,Bxb5,axb5,Na7,h4,Rac8,Rc1,Qc4,Rb1,Qxe2+,Kxe2,Rc4,h5,Rfc8,Kd3,a4,Rb2,a3,Rb3,Ra4,Ra1,a2,Rb2,h6,Ne1,g6,Ke3,gxh5,gxh5,Nf5+,Kf3,Kh7,Nd3,Rg8,Be1,Rg1,Kf2,Rh1,Raxa2', 'Rxa2,Rxa2,Rh2+', 'https://lichess.org/training/komsF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kONF3', 'Rapid', 'sandrom', 1823, 'alex129', 1867, 'e4,c6,f4,d5,e5,h6,d4,Bf5,Bd3,Bxd3,Qxd3,c5,dxc5,e6,b4,Nc6,a3,Nge7,Ne2,Nf5,O-O,Be7,Ng3,Nfd4,Nc3,O-O,Rb1,a6,f5,Nxf5,Nxf5,exf5,Qxf5,d4,Ne4,Qd5,Bf4,Bd8,Nd6,Ne7,Qg4,Ng6,Qg3,Nxf4,Qxf4,Bg5,Qg3,b6,Rbd1,bxc5,c4,Qc6,bxc5,Qxc5,h4,Be3+,Kh1,Qxa3,Nf5,g6,Nxd4,Bc1,Qg4,h5,Qe4,Bb2,Nc2,Qc5,e6,Kg7,exf7,Rac8,Qe6,Rc6,Qe8,Rc8,Qe2,Qxc4,Qf2,Qxc2,Rd2,Qc4,Rxb2,Qxf7', 'Qd4+,Kg8,Rxf7', 'https://lichess.org/training/kONF3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kOnSr', 'Rapid', 'Naba1133', 1688, 'wenjun', 1635, 'e4,e5,Nf3,Nc6,c4,Nf6,d3,Bc5,h3,d6,Be2,Be6,a3,a6,O-O,Qd7,Be3,O-O-O,Nh2,h6,b4,Bb6,b5,Ne7,bxa6,bxa6,Nc3,c5,Nd5,Bxd5,cxd5,Qb7,Rb1,Rd7,Rb3,Qa7,Qb1,Rb7,a4,Kc7,Qb2,Rhb8,Rb1,Nc8,Ng4,c4,Bxb6+,Rxb6,Rxb6,Rxb6,Qc2,Rxb1+,Qxb1,Nxg4,Bxg4,cxd3,Qxd3,Nb6,a5,Nd7,Qf3,Nf6,Qc3+,Qc5,Qxc5+,dxc5,Bf3,c4,Kf1,c3,Ke2,c2,Kd2,Kd6,Kxc2,Kc5,Kd3,Kb5,Be2,Kxa5,f3,Kb4,g4,a5,Kc2,a4,Kb2,a3+,Ka2,Nd7,Ba6,f6,d6,Nb6', 'Bc8,Kc5,d7,Nxd7,Bxd7', 'https://lichess.org/training/kOnSr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kooDf', 'Rapid', 'PabloRegadera', 1672, 'BKING1300', 1744, 'e4,e5,Nf3,Nc6,c3,a6,d4,exd4,cxd4,Nf6,Nc3,Bb4,Bd3,O-O,a3,Ba5,O-O,Re8,e5,Ng4,Bf5,d6,Bxc8,Qxc8,exd6,cxd6,d5,Nce5,b4,Bb6,Nxe5,Nxe5,Ne4,Rd8,Qh5,Qc4,Bf4,Qxe4,Bxe5,Qxe5,Qf3,Rac8,Rfe1,Qb2,Rab1,Qc2,Rb3,Qc1,Rf1,Re8,g3,Qd2,Rd3,Qg5,Qg2,Re5,Rfd1,Rc2,Qh3,Bxf2+,Kh1,Re8,Qd7,Kf8,Qxd6+,Kg8,Rf3,Bd4,Qd7,Rce2', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/kooDf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KoP3m', 'Classical', 'mxklawz', 1722, 'schrosolver', 1683, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,Bxc6+,bxc6,d4,exd4,Nxd4,c5,Nf3,Bg4,Re1,Be7,h3,Bxf3,Qxf3,Rc8,Bg5,O-O,Nd2,h6,Bxf6,Bxf6,Nc4,Re8,Rad1,Qe7,Rd5,Rb8,e5,dxe5,Nxe5,Rxb2,Qc3,Rbb8,Rxc5,Qd6,f4,g5,Rc6,Bxe5,fxe5,Qb4,Qa1,Re6,Rxc7', 'Qb6+,Kh2,Qxc7', 'https://lichess.org/training/KoP3m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KOtlz', 'Blitz', 'Poseidonk', 1805, 'Amrzzo', 1713, 'e4,c5,Nf3,d6,c3,Nf6,d4,cxd4,cxd4,Nxe4,Bc4,g6,O-O,Bg7,Re1,Nf6,Ng5,e6,d5,e5,Nc3,O-O,b3,h6,Nf3,a6,Bb2,b5,Be2,Re8,Bc1,Bb7,Be3,Nbd7,Qc1,Nc5,Bxh6,Nxd5,Nxd5,Bxd5,Bxg7,Kxg7,Qb2,Qf6,Rad1,Bb7,Nd2,Qg5,Nf3,Qf4,Rxd6,Kg8,Rb6,e4,Nd4,Qg5,g3,e3,Nf3,exf2+,Kxf2,Qe3+,Kg2,Bxf3+,Bxf3,Qxe1,Rxg6+,fxg6,Bd5+,Kh7,Qf6,Qe2+,Kh3,Qh5+,Kg2,Re2+,Kf1,Qxh2,Qf7+,Kh6,Qf4+,Kg7,Qc7+,Kh6,Qf4+,Kh5,Qf3+,Kg5', 'Qf4+,Kh5,Bf3#', 'https://lichess.org/training/KOtlz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kou8k', 'Rapid', 'IM Guy_West', 2553, 'mariusandredahl', 2240, 'e4,d6,d4,Nf6,Nc3,Bg4,f3,Bh5,Be3,c6,Qd2,b5,h4,Bg6,Nge2,h5,Nf4,Bh7,e5,Ng8,e6,fxe6,Nxe6,Qc8,Ng5,Nf6,Bd3,Nbd7,Nxh7,Nxh7,Bg6+,Kd8,Bxh5,Nhf6,Bg6,Nb6,b3,e6,Bg5,Be7,O-O,Kc7,Rfe1,Qd7,Bf7,b4,Nd1,Nfd5,Bxe6,Qd8,Bxe7,Qxe7,Bxd5,Qxh4,Be4,g5,Nf2,Raf8,Qxb4,Qh2+,Kf1,Qg3,a4,g4,a5,gxf3,axb6+,Kc8,Bxf3,Rxf3,b7+,Kd7,b8=N+,Kc8,gxf3,Qxf3,Re8+,Rxe8,Qc4,Kxb8,Ra4,Rf8,Rb4+,Kc7,Qe2', 'Qh1#', 'https://lichess.org/training/Kou8k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KOUTt', 'Rapid', 'TheManRay', 1868, 'estadistic', 1839, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be3,Nf6,Be2,b5,a3,Bb7,f3,d5,exd5,Nxd5,Nxd5,Bxd5,O-O,Bc5,f4,Nc6,Nf5,Bxe3+,Nxe3,Be4,Bf3,Qxf4,Qe2,O-O,Rad1,Rad8,Rxd8,Rxd8,Bh5,Qg5,Bxf7+,Kh8,Bxe6', 'Nd4,Qf2,Nxe6', 'https://lichess.org/training/KOUTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('koV21', 'Classical', 'Zygomorf', 1830, 'StelianCroitor', 1892, 'd4,d5,Bf4,Nc6,e3,Nf6,c3,g6,Be2,Bg7,Nd2,O-O,h4,Re8,h5,e5,dxe5,Nxe5,hxg6,Nxg6,Bh6,Bf5,Bxg7,Kxg7,Ngf3,Ne4,Nd4,Qf6,Nxf5+,Qxf5,Nxe4,dxe4,Qd4+,Kg8,g4,Qe6,O-O-O,Qxa2,Bc4,Qa1+,Kc2,Qa4+,Bb3,Qxd4,Rxd4,c5,Rd7,Re7,Rhd1,b5,Rxe7,Nxe7,Rd7,Kf8,Kd2,c4,Bc2,Ke8,Rb7,a6,Bxe4,Ng6,Bc6+,Kf8,Rxf7+,Kxf7,Bxa8,Ne5,Bd5+,Kf6,f3,Nd3,Kc2,Ne5,Be4,h6,b3,cxb3+,Kxb3,Nc4,Bb7', 'Na5+,Kc2,Nxb7', 'https://lichess.org/training/koV21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KOVN9', 'Rapid', 'SucukluTostCola', 1954, 'ildeniz06', 1865, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,h3,a6,a4,Nf6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be6,c3,Rh5,Bxf6,Qxf6,Qxh5,Qxf2+,Kd1,O-O-O,Bxe6+,fxe6,Qf3', 'Qxb2,Qe2,Qxa1', 'https://lichess.org/training/KOVN9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KOvnh', 'Blitz', 'YoloDon', 1578, 'Bono24', 1605, 'd4,d5,Bf4,Nc6,Nf3,Bf5,e3,e6,Nc3,Bb4,Bb5,Ne7,Ne5,O-O,Bxc6,Nxc6,O-O,Nxe5,dxe5,c5,Na4,c4,c3,Ba5,b4,cxb3,axb3,b5,Nc5,Bxc3,Rc1,Bb4,Na6,Be7,Rc7,b4,Qe2,Qe8,Rfc1,Bd8,Rc8,Rxc8,Rxc8,Qd7,Rb8,Bb6,Rxf8+,Kxf8,g4,Be4,f3,Bg6,h4,h6,h5,Bh7,g5,hxg5,Bxg5,Bf5,h6,gxh6,Bxh6+,Ke8,Qg2,Kd8', 'Qg8+,Qe8,Bg5+,Kd7,Nb8+,Qxb8,Qxb8', 'https://lichess.org/training/KOvnh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kow9v', 'Rapid', 'ankit14801', 1642, 'Mrozek1', 1730, 'e4,e5,d4,exd4,c3,dxc3,Bc4,c2,Qxc2,d6,Nf3,Bg4,Qb3,b6,O-O,Qd7,Bb5,c6,Bc4,Nf6,e5,d5,Bd3,Bxf3,gxf3,Nh5,Nc3,Be7,f4,Qg4+,Kh1,Qf3+,Kg1,Nxf4,Bxf4,Qxf4,Ne2,Qxe5,Ng3,O-O,Rfe1,Qd6', 'Nf5,Qf6,Nxe7+', 'https://lichess.org/training/kow9v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kowkz', 'Rapid', 'Rakovia', 2032, 'Nekrasov1954', 1849, 'd4,c5,d5,g6,c4,Bg7,e4,d6,Nc3,Nf6,Bd3,O-O,Nge2,Re8,O-O,e6,Bg5,h6,Bh4,Qd7,Qc2,g5,Bg3,e5,h4,Qg4,f3,Qh5,hxg5,hxg5,Kf2,Bh6,Rh1,Qg6,Rag1,Kg7,Ke1,Rh8,Bf2,Na6,a3,Kf8,Be3,Bd7,Qd2,Ke7,g3,Rh7,Nd1,Rah8,Nf2,Nc7,f4,g4,fxe5,dxe5,Bxc5+,Ke8,Be3,Na6,b4,Nc7,c5,Nb5,a4,Nd4,Nxd4,exd4,Bxh6,Rxh6,Rxh6,Rxh6,e5,Qh5,Rh1,Qxh1+', 'Nxh1,Rxh1+,Bf1', 'https://lichess.org/training/Kowkz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kOXfz', 'Rapid', 'saino1', 1721, 'stscb', 1737, 'e4,c5,Nc3,d6,Nf3,Nc6,d4,cxd4,Nxd4,Ne5,f4,Ng6,Bd3,e6,O-O,Nf6,f5,exf5,exf5,Ne5,Qe2,Be7,Ndb5,O-O,Be4,Nxe4,Nxe4,d5,Ng3,Bf6,Nh5,a6,Nxf6+,Qxf6,Nc7', 'Qb6+,Qf2,Qxc7', 'https://lichess.org/training/kOXfz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('koXVs', 'Rapid', 'MFerdo', 1814, 'rubikon1', 1723, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,a3,Bxc3+,bxc3,Nc6,e3,Ne4,Qc2,O-O,cxd5,exd5,Bd3,f5,O-O,Kh8,a4,Ne7,Ba3,c6,Ne5,Rf6,c4,Be6,f3,Nd6,cxd5,Nxd5,Rfe1,Rh6,Bc1,Qh4,g3,Qe7,e4,fxe4,Bxe4,Nxe4,fxe4,Nb4,Qc3,Rh5,Ba3,a5,Rf1,Rd8,Nd3,Bh3,Nxb4,Qxe4,Qf3,Qxf3,Rxf3,axb4,Bxb4,Rhd5,Bc5,h6,Re1,Rb8,Re7,b6,Ba3,Rxd4,Bb2,Rg4,Rff7,Rd8,Bxg7+,Kg8,Bxh6', 'Rd1+,Kf2,Rf1+,Ke3,Rxf7,Re8+,Kh7', 'https://lichess.org/training/koXVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kOYbq', 'Blitz', 'foxychess', 1544, 'ivanGrozno', 1609, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,Nf6,Nc3,d6,e5,dxe5,Qxd8+,Kxd8,Bg5,Be7,O-O-O+,Ke8,Bxf6,Bxf6,Ne4,Ke7,Bc4,Bf5,Nxf6,Kxf6,h3,Rad8,g4,Bg6,Rhf1,Kg5,Bd3,Kh4,Bxg6,hxg6,Rde1,Kxh3,Rxe5,Kxg4,Re7,f5,Rxg7,g5,Rxc7,Kf3,Rc3+,Kf4,a3,g4,f3,g3,Rc7,Rh2,Rxb7,Rdd2,Rc7,Rdf2,Rc4+,Kxf3,Rc3+,Kg2,Rd1,f4,b4,Kh3,b5,Kg4,Rc7,g2,Rg7+,Kf3,Rd3+,Ke2', 'Re7+,Kf1,Rd1#', 'https://lichess.org/training/kOYbq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kOyij', 'Rapid', 'gtollini', 1858, 'Kidonez', 1779, 'e4,c6,Nf3,d5,exd5,cxd5,Nc3,Bg4,d4,Nf6,Bb5+,Nbd7,O-O,a6,Bxd7+,Qxd7,Bg5,h6,Bxf6,exf6,Re1+,Be7,h3,h5,hxg4,hxg4,Nh2,O-O-O,Nxg4,Qd6,Nxd5,Qxd5,Rxe7,Qh5,Kf1,Qh1+,Ke2,Qxg2,Ne3,Qc6,Rxf7,Qb5+,c4,Qxb2+,Kf3,Rh3+,Kg2,Rh2+,Kxh2,Qxf2+,Ng2', 'Rh8+,Qh5,Rxh5#', 'https://lichess.org/training/kOyij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kp2W0', 'Rapid', 'Empereur1', 1880, 'sniper_10', 1870, 'd4,f5,Bf4,Nf6,e3,e6,Nf3,Be7,Be5,O-O,Bd3,b6,c4,Bb7,O-O,Qe8,Bxc7,Na6,Bg3,Nb4,Be2,Nh5,a3,Nxg3,fxg3,Na6,Ne5,d6,Nd3,Bg5,Qd2,Rd8,Nf4,e5,Nd5,exd4,Rf3,Bxd5,cxd5,Nc7,Qxd4,Nb5,Bxb5,Qxb5,Nc3,Qxb2,Raf1,Rfe8,Nd1,Qxa3,e4,Rxe4,Qxe4', 'Qc5+,Qe3,Bxe3+', 'https://lichess.org/training/Kp2W0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kP2Wx', 'Rapid', 'mguder', 1874, 'BenATCq', 1890, 'd4,Nf6,c4,e5,Nf3,exd4,Nxd4,Bc5,e3,O-O,Be2,b6,O-O,Bb7,Nc3,Re8,Qc2,Na6,Nf3,Nb4,Qd1,Nc6,a3,Ne5,Nxe5,Rxe5,b4,Bd6,Bb2,Rg5,Bf3,Bxf3,Qxf3,Rh5,h3,Rg5,Ne2,Be5,Bxe5,Rxe5,Rfd1,d6,Nd4,Re8,Nc6,Qd7,b5,Ne4,Rd4,Nc5,Rf4,a6,a4,axb5,cxb5,Ne6,Rb4,Ng5,Qd5,Ne4', 'Rxe4,Rxe4,Qxe4', 'https://lichess.org/training/kP2Wx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kP6lo', 'Rapid', 'Lukas_carlsen', 1847, 'Droidfish76', 1904, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Be7,d3,O-O,O-O,a6,h3,b5,Bb3,Bb7,a3,Rc8,Nh2,Nd4,Ba2,d5,f4,exf4,Bxf4,dxe4,dxe4,c5,Be5,Nxe4,Nxe4,Bxe4,Bxd4,cxd4,Rc1,Bc5,Kh1,Qg5,Nf3,Qg3,Qe1,Qg6,Nh4,Qc6,b4,Be7,Nf5,Bxg2+,Kg1,Bf6,Qg3,Bxf1,Rxf1,Qxc2,Nh6+,Kh8,Nxf7+,Rxf7,Bxf7,d3,Qd6,d2,Bh5,Rd8', 'Qxd8+,Bxd8,Rf8#', 'https://lichess.org/training/kP6lo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kPAmk', 'Rapid', 'AymanP', 1736, 'mohamed335577', 1605, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Qe7,O-O,Nf6,Nb5,d6,d4,Bg4,Be2,O-O-O,d5,Nd4,Nfxd4,Bxe2,Nxe2,Kb8,Be3,b6,c4,Nxe4,Qa4,a5,c5,Nxc5,Bxc5,dxc5,Rfe1,Rxd5,Nbc3,Rd6,Nf4,g5,Nfd5,Qe6,Rad1,h5,Qb5,h4,a3,h3,g3,Qg4,Qe8+,Kb7,Qxf7,Qd7,Qf3,g4,Qe4,Ka6,Nb4+,cxb4', 'Qa8#', 'https://lichess.org/training/kPAmk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KpdFT', 'Classical', 'Christian7', 1606, 'BewaretheCat', 1642, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,Nc3,c6,O-O,Bg4,Be2,Qc7,Ne5,Bxe5,dxe5,Bxe2,Qxe2,Ng6,e6,O-O,exf7+,Rxf7,Nd1,Na6,c3,Raf8,b3,Nf4,Bxf4,Qxf4,b4,d4,a3,Nc7,cxd4,Qxd4,Ra2,Nd5,Qd2,Qc4,Rc2,Qh4,g3,Qh3,Rc4,Rf5', 'Rh4,Qxh4,gxh4', 'https://lichess.org/training/KpdFT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KpDRT', 'Rapid', 'gavlna', 1983, 'Tdee1220', 1897, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,Nc3,Bc5,O-O,O-O,Be3,Bb6,d4,exd4,Nxd4,Nxd4,Bxd4,Bxd4,Qxd4,d6,Nd5,Nxd5,Bxd5,c6,Bb3,Be6,Bxe6,fxe6,Rad1,d5,exd5,exd5,Rfe1,Qf6,Qxf6,Rxf6,Re7,Rf7,Rde1,Raf8,Rxf7,Rxf7,Re8+,Rf8,Rxf8+,Kxf8,Kf1,Ke7,Ke2,Ke6,Ke3,Ke5,c3,g5,f3,h5,g3,b5,b4,a6,a3,h4,gxh4,gxh4,h3,Kf5,f4,Ke6,Ke2,Kf5', 'Kf3,Kf6,Kg4', 'https://lichess.org/training/KpDRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kPE1K', 'Classical', 'Furah', 1780, 'InGodItrust-1', 2037, 'd4,Nf6,Nf3,d5,c4,e6,e3,Bb4+,Bd2,Be7,Nc3,O-O,Qc2,c6,Bd3,h6,O-O,dxc4,Bxc4,a5,a3,b5,Ba2,Na6,Bb1,c5,Ne4,Nxe4,Qxe4,f5,Qd3,c4,Qe2,Bd6,Ba2,Bb7,b3,Rc8,bxc4,bxc4,Bxc4,Bxf3', 'Bxe6+,Kh8,Qxf3', 'https://lichess.org/training/kPE1K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KPewK', 'Rapid', 'keinstein1', 1889, 'nadir-nantes', 1803, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,e6,Be3,Nf6,Bd3,Be7,a3,O-O,O-O,a6,f4,Qc7,Rf3,Nxd4,Bxd4,e5,fxe5,dxe5,Rxf6,Bxf6,Nd5,Qd8,Bc5,Re8,Qh5,Be6,Bb6,Qd6,Nxf6+,gxf6,Be3,Kh8,Rf1,Qd8,Qh6,Rg8,Qxf6+,Qxf6,Rxf6,Rg6,Rf2,Rag8,Bc5,Rd8,Be7,Rd7,Bf6+,Kg8,Bxe5,Bh3,Bg3,Bg4,e5,Rb6,b4,Be6,Rf6,Rc6,Rh6,f5,exf6,Bc4,Bf5', 'Rd1+,Kf2,Rf1+,Ke3,Rxf5', 'https://lichess.org/training/KPewK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kpf0r', 'Rapid', 'tychooo', 1719, 'ceryniz', 1712, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,Nd4,Bc4,e6,O-O,Ne7,a3,O-O,d3,d5,exd5,exd5,Ba2,Bg4,h3,Bxf3,gxf3,Qd7,Qd2,Qxh3,Qg2,Qxg2+,Kxg2,Nxc2,Rb1,Nf5,Nxd5,Rae8,Rf2,Ncd4,Bd2,Nh4+,Kg3,Ndf5+,Kh3,Bd4,Rff1,Re2,Bc3,Rd8,Bxd4,cxd4,Rbc1,Ng2,Rc7,Nge3', 'Nf6+,Kh8,Rxf7', 'https://lichess.org/training/kpf0r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kpFaG', 'Rapid', 'jbsay', 1745, 'jamesmori', 1752, 'd4,e6,Nf3,Nf6,e3,Nc6,c3,d5,Bd3,Bd6,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Nd2,O-O,e4,Bg4,f3,d4,fxg4,dxc3,Nc4,Bd4+,Kh1,b5,bxc3,bxc4,cxd4,Qxd4,Rb1,cxd3,Bb2,Qd6', 'e5,Qd5,exf6', 'https://lichess.org/training/kpFaG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kpFAT', 'Blitz', 'Roeczak', 2160, 'FM JackBauer', 2305, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,Ng5,Nh6,Nxf7,Nxf7,Bxf7+,Kxf7,Qh5+,g6,Qd5+,Kg7,Qxc5,d6,Qd5,Re8,O-O,Re5,Qb3,Rxe4,Nd2,Re8,Nf3,Bg4,Ng5,h6', 'Qf7+,Kh8,Qh7#', 'https://lichess.org/training/kpFAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KpFNc', 'Blitz', 'Britvich', 1646, 'Alex55222', 1702, 'c4,e5,Nc3,Bc5,e3,a6,Nf3,d6,d4,exd4,exd4,Ba7,d5,h6,Be2,Ne7,O-O,O-O,Re1,Bg4,Nd4,Bxe2,Ncxe2,Ng6,Be3,Nd7,Rc1,f5,Ne6,Qe7,Nxf8,Bxe3,Nxg6,Bxf2+,Kxf2,Qg5,Ngf4,Ne5,Ne6,Qh4+,Kg1,Ng4,N2f4,Qxh2+,Kf1,g5,Ng6,Kf7,Nxc7,Kxg6,Nxa8,Qf4+,Ke2', 'Qe3+,Kf1,Nh2#', 'https://lichess.org/training/KpFNc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KPGqL', 'Rapid', 'GodSavedTheQueen', 1754, 'MostafaSholkamy', 1756, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Bd7,e5,dxe5,fxe5,Nd5,Bxe7,Qxe7,Nxd5,exd5,Qxd5,Nc6,Nxc6,Bxc6,Qd4,Rd8,Qf4,O-O,Bd3,Rfe8,O-O,Qc5+,Kh1,Rxe5,Qxf7+,Kh8,Qf4,Rg5,Rf2,h6,Raf1,Rg8,h4,Re5,Qg3,Bb5,Rf5,Rge8,Bxb5,Qxb5,Rf8+,Rxf8,Rxf8+,Kh7,Qb3', 'Re1+,Kh2,Qe5+,Qg3,Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/KPGqL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KPiPW', 'Blitz', 'GM Fandorine96', 2686, 'FM Steven_Rojas', 2499, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,Re1,d6,a4,Kh8,a5,a6,Nc3,Ng8,Nd5,f5,c3,f4,d4,Bg4,dxe5,dxe5,Be2,Bxf3,Bxf3,Nf6,Qb3,Qc8,h3,Bd6,Bd2,Nxd5,Qxd5,Ne7,Qb3,Ng6,Bg4,Qb8,Rad1,Qa7,Bc1,Rad8,Qc2,Nh4,b4,g6,Rd5,h5,Bf3,Nxf3+,gxf3,c6,Rd3,Qb8,Red1,Qc7,Bb2,Be7,c4,Kh7,c5,Qc8,Kg2,Qe6,Rxd8,Rxd8,Rxd8,Bxd8,Qd3,Bc7,Ba1,Kg7,Qd2,Kf7,Bc3,Qe7,Qd3,Qg5+,Kf1,Qh4,Qd7+,Qe7,Qc8,Bd8,Bxe5,Qxe5,Qxd8,Qe7,Qd6,Qh4,Kg2,Qg5+,Kf1,Qh4,Ke2,Qf6,Qxf6+,Kxf6,h4,Ke6,Kd3,Ke5,Ke2', 'Kd4,Kd2,Kc4,e5,Kd5', 'https://lichess.org/training/KPiPW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kpjWt', 'Rapid', 'KekM8ed', 1886, 'umutbagci1', 1873, 'c4,c5,Nf3,Nc6,g3,g6,Bg2,Bg7,e3,Nf6,O-O,O-O,d4,cxd4,exd4,d5,c5,Bf5,Nc3,a6,Re1,Nb4,Re2,Ng4,a3,Nd3,Be3,Nxe3,fxe3,Be4,Nxe4,dxe4,Ng5,f5,Ne6,Qd5,Nxf8,Rxf8,Rd2,Qf7,Bf1,Bh6,Qe2,Qb3,Rxd3,exd3,Qxd3,Qxb2,Qc4+,Kh8,Re1,Qd2,Qb4', 'Bxe3+,Kh1,Qf2', 'https://lichess.org/training/kpjWt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kpKxQ', 'Classical', 'bootyblastme', 1957, 'selassie88', 2236, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Ne7,Bc4,Ng6,O-O,Be7,Nd5,exd5,exd5,O-O,d6,Bf6,Nd4,Bxd4,Qxd4,Nc6,Qd1,a6,a4,b6,Be3,Bb7,Ba2,Nb4,Bb3,b5,a5,Qf6,Qg4,Nd3,Bc2,Nxb2,Bd4,Ne5,Qh5,h6', 'Bxe5,Qg5,Qxg5,hxg5,Bxb2', 'https://lichess.org/training/kpKxQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kpKYd', 'Rapid', 'Mamm0uth', 1637, 'MountainGoat', 1630, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Nc3,Nf6,Bb5+,Nbd7,Bf4,Ne4,Nxd5,Nd6,Bxd6,exd6,Qe2+,Be7,O-O-O,Be6,Nxe7,Qxe7,Rhe1,d5,c4,Rc8,Ne5,Rc7,Nxd7,Rxd7,Bxd7+,Qxd7,cxd5,Qxd5,b3,O-O,Kb2,Qxg2,Qe4,Bd5,Qxg2,Bxg2,d5,Rd8,d6,Rd7,Rd4,f6,Red1,Kf7,Kc3,Bc6,Kb4,b6,Kc4,a6,b4,Bf3,R1d2,Rd8,a3,b5+,Kc5,Rc8+,Kb6,Rc6+,Ka5,Ke8,d7+,Kd8,Rd6,Rxd6,Rxd6,Bg4,Kxa6,Bxd7,Rxd7+,Kxd7,Kxb5,Kc7,Ka6,Kb8,Kb6,f5,Kc5,f4,Kd4,g5,Ke4,h6,Kf5,Kb7,f3,Kb6,Kg6,Kb5,Kxh6', 'g4,fxg4,f3,g5,f2', 'https://lichess.org/training/kpKYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kpmEH', 'Bullet', 'Paltaroov', 1877, 'gabasa26', 1861, 'd4,Nf6,Nc3,d5,e4,dxe4,f3,exf3,Nxf3,e6,Bd3,h6,O-O,Be7,Qe1,O-O,Qg3,a6,Bxh6,Nh5,Qh3,gxh6,Qxh5,f5,Qxh6,Rf7,Rad1,Rg7,Kh1,Qf8,Ne5,Nd7,Ng6,Qf6,Qh8+,Kf7,Nxe7,Kxe7,Ne4,Qg6,Ng3,b6,Qh4+,Kd6,Qf4+,Ke7,Qxc7,Bb7,Rf2,Rh8,Kg1,Rxh2,Nxf5+,Qxf5,Rxf5', 'Rgxg2+,Kf1,Rh1#', 'https://lichess.org/training/kpmEH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kpmnU', 'Rapid', 'ByDucard', 2031, 'xperfectKING', 1876, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Bd7,Bd3,h6,Ne4,Nxe4,Bxe4,Bd6,c3,Qc7,O-O,O-O,b4,Nb7,Bc2,Rae8,Bb3,Be6,h3,f5,d3,f4,Nd2,Kh8,Ne4,Bf5,a4,Bxe4,dxe4,Rf6,Rd1,Rg6,a5,Rf8,Bc4,Nd8,Ba3,Ne6,Bf1,Ng5,Qh5,Rgf6,Re1,f3,g4,Rf4,Bd3,Qd7,Bc1', 'Nxh3+,Qxh3,Rxg4+', 'https://lichess.org/training/kpmnU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KPnNf', 'Rapid', 'OmegaRedBad', 1642, 'BoCoplaya45', 1639, 'e4,e5,d4,Bd6,Nf3,Nc6,d5,Nb4,Nc3,Nf6,Bg5,O-O,h4,h6,Be3,a5,Rh3,b6,Rg3,Kh8,Nh2,Ba6,Bxa6,Rxa6,Ng4,Nh5,Rf3,Qxh4,Qd2,Qxg4,Bxh6,Qxg2,O-O-O,Qxf3,Rg1,Qf6,Bg5,Qg6,Rh1,Kg8,Ne2,Nxa2+,Kd1,Bb4,Qe3,Bc5,Qf3,Qxg5,Rxh5,Qg6,Qh3,f6,Ng3,Bxf2', 'Rh8+,Kf7,Qxd7#', 'https://lichess.org/training/KPnNf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KPP1r', 'Blitz', 'abrahamrh32', 1934, 'Bazuev_Turta', 2074, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Be2,Be7,O-O,O-O,f3,Nc6,Qd2,Bd7,Rad1,Rc8,a3,Ne5,g4,Nc4,Bxc4,Rxc4,g5,Ne8,f4,e5,Nde2,Bh3,f5,Bxf1,Rxf1,f6,Qd5+,Kh8,Qxc4,b5,Qd3,fxg5,Nd5,Nf6,Nxe7,Qxe7,Rd1,Rd8,Nc3,Qf7,Bxg5,Qh5,Bxf6,gxf6,Nd5,Rg8+,Kh1,Qg4,Ne3', 'Qf3+,Ng2,Qxg2#', 'https://lichess.org/training/KPP1r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KPq4l', 'Blitz', 'ABUANAS660', 1669, 'Joecastillo', 1627, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,a6,Ba4,b5,Bb3,Na5,dxe5,Nxb3,axb3,Be7,Nc3,Bg4,Nd5,dxe5,Nxe7,Qxe7,h3,Rd8,Qe2,Bh5,O-O,h6,Bd2,Nf6,Rxa6,Bxf3,gxf3,O-O,Rd1,Nd7,Qxb5,Nb8,Raa1', 'Rxd2,Rxd2,Qg5+,Kf1,Qxd2', 'https://lichess.org/training/KPq4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kpqw9', 'Blitz', 'IM JoaBN', 2527, 'Dimasik1222', 2041, 'Nf3,d5,c4,d4,b4,c5,g3,Nf6,Bg2,Nbd7,O-O,e5,d3,cxb4,a3,bxa3,Bxa3,Bxa3,Rxa3,O-O,Nbd2,Qe7,Qa1,a6,Re1,Rb8,e3,dxe3,Rxe3,b5,Nxe5,Nxe5,Rxe5,Qd6,c5,Qc7,d4,b4,Rae3,Ng4,Re7,Qd8,Re2,b3,Qc3,b2,Nb1,Bf5,R7e4,Bxe4,Bxe4,f5,Bf3,Re8,Rxb2,Rxb2,Qxb2,Qe7,Nc3,Qe1+,Kg2,Nf6,c6,Ne4,Bxe4,fxe4,d5,e3,fxe3,Rf8,Qe2,Qxc3,e4,Qd4,c7,a5,Qc2,Rc8,Kh3,a4,Qc6,Qxe4,Qd7,Qe8', 'Qxe8+,Rxe8,d6,Kf7,d7', 'https://lichess.org/training/Kpqw9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KpqY5', 'Rapid', 'sahinergin', 2103, 'Romeyko', 2056, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,Nc6,Bc4,Nb6,Bb3,e6,Nf3,Na5,Bc2,Nd5,O-O,d6,Nc3,Nxc3,bxc3,Nc4,Qd3,b5,Bb3,d5,Bxc4,dxc4,Qe4,Rb8,a4,Bb7,Qe2,a6,axb5,axb5,Ba3,Bxa3,Rxa3,O-O,Rfa1,Bd5,Ra7,h6,R1a6,b4,cxb4,Rxb4,h3,c3,Ra3,Rb2,Qe3,c2,Rc3,Bxf3,gxf3,Qb8,Rac7,Rb3,Rxb3,Qxc7,Rc3,Qb6,Rxc2,Rd8,Rd2,Rd5,Qd3,Qd8,Qe4', 'Qg5+,Kf1,Qxd2', 'https://lichess.org/training/KpqY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KPQZC', 'Rapid', 'arun_chess', 1939, 'rIsHi_2004', 2069, 'd4,Nf6,Nf3,e6,e3,b6,Be2,Bb7,a3,d5,b3,Nbd7,Bb2,Be7,Nbd2,O-O,O-O,c5,c4,Rc8,Rc1,Ne4,Qc2,f5,Nxe4,fxe4,Nd2,Bg5,Ba1,cxd4,Bxd4,e5,Ba1,Bf6,Qa2,d4,exd4,exd4,Rfd1,Ne5,b4,Kh8,Nb3,d3,Bf1,Nxc4,Bxf6,Qxf6,Nd2,Nxd2,Qxd2,Qd4,Rxc8,Rxc8,Qg5,Rc2,Qe7,Bd5', 'Qd8+,Bg8,Qxd4', 'https://lichess.org/training/KPQZC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KpR1o', 'Rapid', 'MsGenie', 1961, 'ronin7887', 1926, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qa5,Nxe4,Be6,Neg5,O-O-O,Nxe6,fxe6,Rxe6,Be7,Qe1,Bf6,Qxa5,Nxa5,Bg5,Bxg5,Nxg5,Rd7,Rae1,Kd8,b3,h6,Ne4,b6,Ng3,Nb7,Nf5,Rf8,g4,c5,Re7,Rf7,Re8+,Kc7,Ra8,h5,h3,hxg4,hxg4,g6,Nh6,Rfe7,Re8,Rxe1+,Rxe1,Kd6,Ng8,Nd8,Kg2,Rf7,Kg3,Ne6,Nh6,Rf4', 'Rxe6+,Kxe6,Kxf4', 'https://lichess.org/training/KpR1o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KpRKM', 'Rapid', 'blundersalot', 1947, 'FraGer68', 2599, 'd4,Nf6,Nf3,e6,b3,c5,Bb2,cxd4,Nxd4,a6,e3,b6,Bd3,Bb7,O-O,d6,Nd2,Be7,a3,O-O,e4,Nbd7,Re1,Rc8,b4,Qc7,f3,Rfd8,Kh1,Qb8,Qe2,Qa8,Nc4,g6,e5,dxe5,Nxe5,Nxe5,Qxe5,Nd7,Qg3,Bf6,Nxe6,Bxb2,Nxd8,Bxa1,Nxb7,Bc3,Re7,Qxb7,Qd6,Rc7,Be4,Qc8,Bd5,Be5,Bxf7+,Kg7,Be6+,Kh8,Qxe5+', 'Nxe5,Bxc8,Rxe7', 'https://lichess.org/training/KpRKM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KPRzG', 'Rapid', 'JFowler77', 2324, 'Maggie619', 2369, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Nf6,Qe2,Bb4+,Nc3,O-O,Nf3,Nxe4,Qxe4,Re8,Ne5,Bxc3+,Bxc3,Qe7,O-O,d6,Bxf7+', 'Qxf7,Nxf7,Rxe4', 'https://lichess.org/training/KPRzG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KpS4u', 'Classical', 'MissIlayda', 1678, 'olgunali', 1624, 'e4,f5,e5,d6,d4,dxe5,d5,Nf6,Nc3,e6,Bb5+,Bd7,dxe6,Bxb5,Qxd8+,Kxd8,Nxb5,c6,Nc3,Bb4,Bd2,Ne4,Nxe4,Bxd2+,Nxd2,Na6,O-O-O,Ke7,Nc4,Kxe6,Re1,e4,Nf3,Kf6,Nd4,Rad8,Nb3,b5,Ne3,Rhe8,g4,f4,g5+,Kxg5,Rhg1+,Kh5,Nf5,Rd7,Rg2,g6,Reg1,gxf5,Rg5+,Kh4,Rxf5,f3,Rg3,c5,Rf4+,Kh5,Nd2,Red8,Rf5+,Kh4,Rgg5,Rxd2,Rh5+,Kg4,Rfg5+,Kf4', 'Rf5+,Kg4,h3#', 'https://lichess.org/training/KpS4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kpSZy', 'Blitz', 'Gadya', 1984, 'Elabuga116', 1908, 'g3,d5,Bg2,Bf5,d3,Nf6,Nd2,Nc6,e4,dxe4,dxe4,Bg4,f3,Bh5,c3,h6,Ne2,Ne5,Nf4,Bg6,Qe2,Bh7,O-O,g5,Nd5,Nxd5,exd5,Qxd5,Ne4,O-O-O,Be3,f5,Rfd1,Qe6,Nc5,Rxd1+,Rxd1,Qc4,f4,Qxe2', 'Bxb7+,Kb8,Rd8#', 'https://lichess.org/training/kpSZy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kPtIP', 'Rapid', 'Tucutac55', 1735, 'DivineDuck', 1768, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,e6,Bf4,Nc6,e3,a6,Qa4,Bd7,Qb3,Na5,Qd1,Nf6,a3,b5,Rc1,Be7,Nf3,O-O,Ne5,Rc8,Bd3,Bd6,Bc2,Qc7,Qd3,Nc4,Bg5,Bxe5,Bxf6,g6,dxe5,Nxb2,Qd2,Qxc3,Qxc3,Rxc3,Kd2,Rfc8,Be7,a5,Bd6,R3c6,Be7,Nc4+,Kd1,Nxa3,Bxa3,b4,Bb2,Rc5,Bd4', 'Rxc2,Rxc2,Ba4', 'https://lichess.org/training/kPtIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kPTV5', 'Blitz', 'millan80', 2138, 'Kingofthemonsters', 2116, 'd4,e5,c4,exd4,Qxd4,Nc6,Qd1,Bb4+,Nc3,Bxc3+,bxc3,Qf6,Bb2,Nge7,e3,O-O,Nf3,d6,Be2,Be6,O-O,Rfe8,Nd4,Ne5,Nxe6,fxe6,c5,d5,c4,Qf5,cxd5,exd5,Rb1,c6,Qd4,N7g6,f4,Qc2,Bh5,Re7,fxe5,Nxe5,Rbc1,Qd3,Bf7+,Rxf7,Qxe5,Raf8,Rf3,Qg6,Rg3,Qh6,e4', 'Qxc1+,Bxc1,Rf1#', 'https://lichess.org/training/kPTV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KpTVE', 'Rapid', 'Tzomit', 1845, 'apdp9', 1876, 'd4,e5,dxe5,Bc5,Nf3,d6,exd6,Ne7,dxe7,Bxf2+,Kxf2,Qxd1,Bg5,Qxc2,Nc3,Qxb2,Rd1,Nc6,Ne5,Be6,Nxc6,Qxc3', 'Rd8+,Rxd8,exd8=Q#', 'https://lichess.org/training/KpTVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kPUrj', 'Rapid', 'photonicmice', 1668, 'kral05kral', 1772, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,O-O,a4,a6,Be3,Ba7,Qd2,d6,O-O,Bg4,Qe2,Nd4,Qd1,h6,h3,Bh5,g4,Bg6,Nxd4', 'exd4,Bxd4,Bxd4', 'https://lichess.org/training/kPUrj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KpVwn', 'Rapid', 'KIZIL', 1691, 'danjanos1963', 1720, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e5,Nf3,Bb4,Bd2,d6,Qa4+,Nc6,Bb5,Bd7', 'Bxc6,Bxc6,Qxb4', 'https://lichess.org/training/KpVwn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kPzmb', 'Rapid', 'theo', 1943, 'lorddoliny', 1809, 'd4,c5,dxc5,e6,e3,Bxc5,a3,a5,b3,Nf6,Bb2,d5,c3,O-O,b4,axb4,cxb4,Bd6,Nf3,b6,Nbd2,Ba6,Bxa6,Nxa6,O-O,Rc8,Qa4,Nc7,Rac1,b5,Qa5,Re8,Qb6,e5,Rc6,Re6,Bxe5,Bxe5,Rxe6,Bxh2+,Nxh2,Nxe6,Qxb5,Rc2,Nhf3,Ra2,Qa4,Qc8,Rb1,h6,b5,Qc3,b6,Rxa3,Qxa3', 'Qxa3,b7,Nd7,b8=Q+,Nxb8', 'https://lichess.org/training/kPzmb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kpzyW', 'Classical', 'Cleber79', 1657, 'mehmetdeveli', 1696, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nf6,d4,Nc6,Bb5,Bd7,Bg5,Bb4,a3,Bxc3+,bxc3,O-O,O-O,a6,Bd3,Bg4,Re1,b5,h3,Bxh3,gxh3,Qd7,Bxf6,gxf6,Kh2,Kh8,Qd2,Rg8,Qh6,Qd6+,Kh1,Rg7,Rg1,Rag8,Nh4,Qe6,Rxg7', 'Qxh3+,Kg1,Rxg7+', 'https://lichess.org/training/kpzyW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQ0Od', 'Rapid', 'NieR962', 1772, 'trend19', 1822, 'b3,d5,Bb2,c6,e3,Bf5,c4,e6,cxd5,Qxd5,Nc3,Qa5,Nf3,Nd7,Be2,Ngf6,O-O,Bg4,Nd4,h5,h3,Qc7,Rc1,a6,Nf3,O-O-O,Nd4,Ne5,Ndb5,axb5,Nxb5,Qb8,Bxe5,Qxe5,Na7+,Kb8,Nxc6+,bxc6,Rxc6,Bd6,g3,Bxh3,Rb6+,Kc7,Rb5,Qe4,Bf3,Bg4', 'Qc1+,Kd7,Bxe4', 'https://lichess.org/training/kQ0Od');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kq0Un', 'Rapid', 'nami242', 1750, 'sasi958', 1748, 'd4,c6,c4,Nf6,Nc3,e6,Bg5,Be7,Nf3,d5,cxd5,exd5,e3,Bg4,Bd3,Nbd7,O-O,Qc7,h3,h5,Bf4,Bd6,Bxd6,Qxd6,e4,dxe4,Nxe4,Nxe4,Bxe4,O-O-O,Qa4,Kb8,b4,Nb6,Qb3,f5,Bd3,Bxf3,gxf3,Qf4,Kh1,Qxf3+,Kh2,Rxd4,Rad1,Rhd8,Bxf5,Qxf5,Rxd4,Rxd4,Qg8+,Nc8,Qxg7,Qf4+,Qg3,Qxg3+,fxg3,Rd2+,Kg1,Rxa2,g4,hxg4,hxg4,Ra3,Kh2,Nd6,g5,Re3,g6,Re7,Rg1,Rg7,Kh3,Kc7,Kh4,Kd7,Kh5,Ne8,Rf1,Ke7,Re1+,Kf8,Rf1+,Kg8,Kh6,b6,Re1,Kf8', 'Rxe8+,Kxe8,Kxg7', 'https://lichess.org/training/kq0Un');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kq2RK', 'Rapid', 'pawdaw', 1643, 'tulavod', 1691, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,h3,h6,c3,a5,d4,exd4,cxd4,Bb6,Re1,g5,e5,Be6,exd6,Qxd6,d5,O-O-O,Nc3,Qc5,Qe2,Bxd5,Bxd5,Rxd5,Nxd5,Qxd5,Rd1,Qe6,Qxe6+,fxe6,Bd2,Rh7,Re1,Re7,b3,Nf6,Rad1,g4,Ne5,Nxe5,Rxe5,gxh3,gxh3,Nd5,Bxh6,Nc3,Rd2,Kb8,Rd8+,Ka7,Bg5,Rf7,Rxe6,Bxf2+,Kg2,Nxa2,Be3+,Bxe3,Rxe3,Nb4,Rh8,Nd5,Re5,Nf4+,Kh1,b6,h4', 'Ng6,Rxa5+,bxa5', 'https://lichess.org/training/kq2RK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQ3to', 'Classical', 'kuroshilver', 1733, 'Kudesnik1972', 1851, 'e4,e6,d4,g6,Nf3,Bg7,Bc4,Ne7,Bg5,O-O,O-O,Re8,e5,d6,Nbd2,Nd7,Bb5,dxe5,dxe5,c6,Bc4,Nxe5,Nxe5,Bxe5,Nf3,Bxb2', 'Qxd8,Rxd8,Bxe7', 'https://lichess.org/training/kQ3to');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kq4z1', 'Rapid', 'Rond', 1651, 'dada21', 1629, 'e4,d6,d4,g6,b3,Bg7,Bb2,Nf6,Nd2,O-O,Bc4,e6,d5,exd5,Bxd5,Nxd5,Bxg7,Kxg7,exd5,Re8+,Ne2,Qe7,Nf3,Bf5,Nd4,Be4,f3,Bxd5,O-O,Bc6,Nxc6,Nxc6,Re1,Qe3+,Kf1,Qc5,c4,Re3,Ng3,Rae8,Ne4,Rxe1+,Qxe1,Qe5,Rd1,Qxh2,Qc3+,Kg8,Nf6+,Kf8,Nxe8,Kxe8,Re1+,Ne5,Qe3,Kd7,f4,Nc6', 'Qe8#', 'https://lichess.org/training/kq4z1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kq6yv', 'Rapid', 'saratraz', 2015, 'Moneywolf', 2090, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qh5,Nxe4,Be6,Bg5,Bd6,h3,O-O,Nxd4,Qxd1,Raxd1,Nxd4,Rxd4,Be5,Rb4,f6,Bh4,Bd5,c4,a5,Ra4,Bc6,Ra3,Bxb2,Rb3,Be5,Nc5,b6,Nd3,Ba4,Rbb1,Bc2,Nxe5,Bxb1,Nd7,Rfd8,Re7,Bf5,Nxf6+,gxf6,Bxf6,Rd6,Rg7+,Kf8,Be5,Re6,f4,Re7,Rg5,Bg6,h4,Rxe5,fxe5,Kf7,h5,Bd3,h6,Rg8', 'e6+,Kxe6,Rxg8', 'https://lichess.org/training/Kq6yv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQ8tS', 'Rapid', 'kipli_mjlk', 2328, 'FM MalyDominator', 2474, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be2,e5,Nb3,Be7,Be3,O-O,O-O,a5,a4,Nb4,f3,d5,exd5,Nfxd5,Nxd5,Nxd5,Bf2,Be6,Nc5,Bxc5,Bxc5,Qg5,Bxf8', 'Ne3,Rf2,Nxd1', 'https://lichess.org/training/KQ8tS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kq98W', 'Rapid', 'MS-17', 1624, 'Jenicek1339', 1702, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,Bg4,Be3,g6,Be2,Nf6,Nc3,Bg7,h3,Bxf3,Bxf3,Qa5,Qb3,O-O,Qxb7,Rfc8,O-O,Rab8,b4,Nxb4,Qxe7,Rxc3,Qxd6,Rd8,Qe7,Nc6,Qb7,Rb8,Qxb8+,Nxb8,Rab1,Nbd7,Bd2,Qa3,Bxc3,Qxc3,Rfd1,Qc8,e5,Ne8,Bg4,f5,Bf3,Nb6,Rbc1,Qb8,e6,Nc7,e7,Kf7,Re1,Bf6', 'Rxc7,Qxc7,e8=Q+', 'https://lichess.org/training/Kq98W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQAJO', 'Rapid', 'vita_chess', 2106, 'Dissociation', 2371, 'd4,d5,Nf3,Nf6,e3,e6,Nbd2,c5,c3,Nc6,Ne5,Nxe5,dxe5,Nd7,f4,Be7,Bd3,f6,Qh5+,Kf8,O-O,f5,g4,g6,Qh3,Kg7,gxf5,exf5,Kh1,Rg8,Rg1,Kh8,Nf3,c4,Bc2,Nc5,Bd2,Ne4,Be1,Qb6,Bxe4,dxe4,Ng5,Bxg5,Rxg5,Qxb2,Qh6,Qxa1,Rg1,Rg7,Bh4,Qxg1+,Kxg1,Kg8,Bf6,Rf7,h4,Be6,h5,gxh5,Qxh5,Kf8,Qd1,Rd7,Qa4,Kf7,Kf1,Rg8,Qxa7,h5,Bg5,b5,Qc5,Rd1+,Ke2,Rd7,Qxb5,Rh8,Bh4,Rg8,a4,Rg2+,Kf1,Rh2,Be1,h4,Qb8,Kg7,Qe8,Rh1+,Kg2,Rxe1,Qxe6', 'Rd2+,Kh3,Rh1#', 'https://lichess.org/training/KQAJO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KqAUN', 'Rapid', 'Harka01', 1686, 'STRIDER_ST9', 1733, 'e4,g6,Nc3,Bg7,Nf3,c5,d3,Nc6,Be3,Nf6,h3,b6,Be2,d5,exd5,Nxd5,Nxd5,Qxd5,Qd2,Bxb2', 'c4,Qd6,Qxb2', 'https://lichess.org/training/KqAUN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KqCaM', 'Rapid', 'masefu', 2103, 'hvcm', 2125, 'd4,Nf6,c4,d5,Nc3,e6,Bg5,Be7,e3,O-O,Nf3,h6,Bh4,c6,c5,Nbd7,Bd3,Ng4,Bxe7,Qxe7,O-O,e5,dxe5,Ngxe5,Nxe5,Nxe5,b4,Bg4,Be2,Qg5,Bxg4,Nxg4,h3', 'Nxe3,fxe3,Qxe3+,Rf2,Qxc3', 'https://lichess.org/training/KqCaM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQDlh', 'Rapid', 'ItsSpiRo', 1864, 'Bojan-1996', 1860, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,Re1,d6,h3,O-O,c3,Bb6,d4,Re8,d5,Bd7,dxc6,Bxc6,Bxc6,bxc6,Bg5,h6,Bh4,Re6,Na3,Qe8,Nc4,Nd7,Bg3,Rb8,b3,Nf8,Qd2,c5,Rad1,Ng6,Qd5,Ne7,Qd2,Ng6,Nh2,Qe7,Ng4,Kh7,Nge3,Nf8,Nd5,Qe8,a4,a6,Qc2,Qd7,Ncxb6,cxb6,f4,exf4,Bxf4,Qc6,e5+,Kg8,exd6,Rxe1+,Rxe1,Qxd5,Rd1,Qe6,Qd3,Rd8,b4,cxb4,cxb4,Ng6,Bg3,Ne5,Qe2,Nc4,Qxe6,fxe6,Rd4,Ne3,Re4,Nf5,Bf4,Kf7,g4,g5', 'gxf5,exf5,Re7+', 'https://lichess.org/training/KQDlh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQdn0', 'Rapid', 'sami4arts', 1684, 'Apolosquare33', 1692, 'e4,e6,d3,d5,exd5,exd5,Nc3,Nf6,Qe2+,Be7,Bg5,d4,Nb5,c5,Qe5,Qa5+,Kd1,Qxb5,Bxf6,gxf6,Qe4,Qxb2,Rc1,Nc6,Be2,Qxa2,Bf3,Qe6,Qf4,Qe5,Qd2,Qg5,Qe2,Bg4,Bxg4,f5,Bf3,h5,Nh3,Qf6,Re1,O-O-O', 'Bxc6,Qxc6,Qxe7', 'https://lichess.org/training/KQdn0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQFKC', 'Rapid', 'Raphael-Lasker', 1958, 'guns_nroses', 2067, 'e4,c5,Nc3,Nc6,f4,g6,Bc4,Bg7,Nge2,d6,d3,Bg4,Bd2,Nd4,Rb1,Qb6,h3,Be6,Bxe6,Nxe6,Nd5,Qd8,O-O,Nf6,Nec3,Nc7,f5,Nfxd5,Nxd5,Nxd5,exd5,O-O,fxg6,fxg6,Qg4,Qc8,Rxf8+,Qxf8,Qe6+,Qf7,c3,Rf8,Re1,Kh8,Qxe7', 'Qf2+,Kh1,Qxd2', 'https://lichess.org/training/KQFKC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQfp1', 'Rapid', 'An_Duin', 2039, 'dimasik-dim', 2015, 'e4,c6,d4,d5,e5,Bf5,f4,h6,Nf3,e6,Bd3,Bxd3,Qxd3,Ne7,O-O,Nf5,c4,Na6,Nc3,dxc4,Qxc4,Be7,a3,O-O,b4,Nc7,g4,Nh4,Ne4,Nxf3+,Rxf3,Nd5,Bd2,Rc8,Raf1,a5,f5,exf5,gxf5,Bg5,f6,Bxd2,Nxd2,g6,Ne4,Qd7,Nd6,Rcd8,Qc1,Kh7,bxa5,Qg4+,Kh1,Qxd4,Nxb7,Rb8,Qxc6,Qxe5,a6,Rbc8,Qd6,Qe4,Nc5,Qd4,Rd3,Qxc5,Qxd5,Qb6,Qd6,Qb5,a7,Rcd8,a8=Q,Rxa8,Qd5,Qb2,Qf3,Rfe8,Rfd1,Re2,Qxa8', 'Rxh2+,Kg1,Qf2#', 'https://lichess.org/training/kQfp1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KqFqG', 'Rapid', 'walmoral2013', 2128, 'oknetwork', 2033, 'e4,c5,Nf3,Nc6,Nc3,d6,g3,Bg4,h3,Bh5,g4,Bg6,d3,Nf6,Bg2,e6,O-O,Be7,Be3,O-O,Qd2,a6,Nh2,Qa5,f4,h6,f5,Bh7,fxe6,fxe6,Nf3,Nd7,a3,Nde5,Nxe5,Nxe5,Rxf8+,Rxf8,Rf1,Rxf1+,Kxf1,Bh4,Bf4,Nf7,Qe3,g5,Bg3,Bxg3,Qxg3,Ne5,Qe3,Qb6,Nd1,Bg6,Kf2,Qc7,Kg3,Qf7,Nf2,Qf6,c3,Nc6,Kh2,Qe5+,Qg3,Qf4,Qxf4,gxf4,Bf3,e5,h4,Kf7,g5,hxg5,hxg5,Nd8,Kh3,Ne6,Kh4,Bh7,Ng4,Kg6,Nf6', 'Nxg5,Nxh7,Nxf3+', 'https://lichess.org/training/KqFqG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQGB3', 'Classical', 'ledzeppeman', 1760, 'korkmazatif', 1772, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,d5,Bxd5,Nf6,Bxf7+,Kxf7,Qxd8,Bb4+,Qd2,Bxd2+,Nxd2,Nc6,e5,Nd5,Ne2,Ncb4,O-O,Bg4,Nd4,Nd3,Ba3,c5,N4f3,N5f4,h3,Bh5,Ng5+,Kg6,Nge4,b6,g4', 'Nxh3+,Kh2,Bxg4', 'https://lichess.org/training/kQGB3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KqgVZ', 'Classical', 'kemalkaplan', 1623, 'th0rs', 1600, 'e4,c5,Nf3,d6,h3,a6,b3,Nc6,Bb2,e6,g3,Nf6,d3,Be7,Bg2,O-O,O-O,e5,Nfd2,Be6,c4,Qd7,g4,b5,cxb5,axb5,f3,h5,g5,Nh7,h4,Bh3,f4,Bxg2,Kxg2,Nb4,fxe5,Nxd3,exd6,Nxb2,Qxh5,Qxd6,a3,Nd3,Qg4,Qe5,Ra2,Nxg5,hxg5,Bxg5,Rf5,Nf4+,Kf3,Qd4,Rxg5,Ne6,Rd5,Qf6+,Kg3,b4,a4,Rad8,Rf5,Rd3+,Kg2,Qg6,Qxg6,fxg6,Rxf8+,Kxf8,Rb2,Nf4+,Kf2,Nh3+,Ke1,Ke7,Nc4,Ke6,Nbd2,g5,a5,g4,Kf1,Rc3,a6,Rc1+,Ke2,Ra1,Ne3', 'Nf4+,Kf2,Nd3+,Kg3,Nxb2', 'https://lichess.org/training/KqgVZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KqHMz', 'Rapid', 'Talehsir', 1647, 'fififi007', 1660, 'e4,e5,Nf3,Nf6,Nc3,d6,h3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Be7,Bg5,O-O,O-O-O,h6,Bh4,Nd7,g3,Bxh4,gxh4,Qxh4,Rg1,f6,Nd5,c5,Qc4,Ne5,Ne7+,Kh8,Ng6+,Nxg6,Rxg6,Qh5,Rg4,Bxg4,hxg4,Qxg4,Be2,Qg5+,Kb1,Rac8,Qb5,b6,a3,Qe5,f3,c4,Qd7,c3,b3,Qc5,Ka2,Rfd8,Qxa7,b5,Qa6,b4,a4,d5,exd5,Ra8,Qd3,Rxa4+', 'bxa4,b3+,cxb3,c2,Rc1', 'https://lichess.org/training/KqHMz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQhz8', 'Rapid', 'JuanDavidR95', 2173, 'veterano10', 2023, 'd4,Nf6,Nc3,e6,a3,d5,Qd3,Bd6,Nf3,Nc6,b4,a6,h3,O-O,e4,dxe4,Nxe4,Nxe4,Qxe4,f5,Qd3,Qf6,Qc3,e5,Bc4+,Kh8,Bg5,Qg6,dxe5,Nxe5,Nxe5,Bxe5,Qxe5,Qxg5,O-O,c6,Rad1,b5,Qc5,Bb7,Rd7,Rab8,Rxb7,Rbe8,Bf7,Rd8,Qxc6,f4,Qxa6,f3,g3,Qf5,Be6,Qg5,Qxb5,Qd2,Qc5,Qe2,Qc7', 'Qxf1+,Kxf1,Rd1#', 'https://lichess.org/training/KQhz8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQimv', 'Rapid', 'Tesfaysolomon308', 1619, 'JohnVll', 1802, 'd4,Nf6,c4,e6,Nc3,d5,a3,b6,Bg5,Be7,e3,c6,Nf3,Ba6,Ne5,O-O,Be2,h6,Bh4,c5,O-O,Qc7,cxd5,Nxd5,Bxe7,Nxe7,Bxa6,Nxa6,Nf3,cxd4,Nxd4,Rfd8,Qf3,Ng6,Rad1,Rac8,Ndb5,Qc4,Rxd8+,Rxd8,Qb7,Nc5,Qc7,Rd2,Nd6,Qd3,Ne8,Nb3,Qc8,Kh7,Qc7,Qf5,e4,Qe5,Qxf7,Nf4,f3,Qd4+,Kh1,Rxg2,Rd1,Qf2', 'Nf6+,Kh8,Qf8#', 'https://lichess.org/training/KQimv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQInP', 'Rapid', 'chessboylran', 2016, 'abdhaboosh55555', 1969, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bd3,Bd7,O-O,Qb6,Nbd2,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nf3,Qb6,Be3,Qc7,Rc1,Nc6,a3,a6,b4,Be7,Qc2,g6,Bh6,Rc8,h4,Bf8,Bxf8,Kxf8,h5,Qb8,Rfe1,Nxe5', 'Nxe5,Rxc2,Nxd7+', 'https://lichess.org/training/kQInP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kqk4n', 'Blitz', 'kontrolj', 1633, 'filipp0404', 1608, 'e4,b6,f4,Bb7,Nc3,c5,Nf3,Nc6,Bc4,e6,d3,Nge7,O-O,d5,exd5,Nxd5,Nxd5,exd5,Bb5,Be7,Ne5,Rc8,Qh5,O-O,Nxc6,Bxc6,Bxc6,Rxc6,f5,g6,Qh6,Bf6,Rf3,Bg7,Qf4,Rf6,g4,h5,h3,hxg4,hxg4,g5,Qxg5,Re8,Bd2,Re2,Bc3,Qd6,Bxf6', 'Qh2+,Kf1,Qg2#', 'https://lichess.org/training/Kqk4n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQKa4', 'Blitz', 'CedricDanielMacato24', 2149, 'zygelis', 2165, 'd4,d5,Nf3,Nf6,g3,Bf5,Bg2,c6,O-O,e6,c4,Bd6,Nc3,Nbd7,Nd2,O-O,e4,dxe4,Ndxe4,Bc7,Bg5,h6,Be3,Qe7,h3,Rfd8,Qe2,Nxe4,Nxe4,Nf6,Nxf6+,Qxf6,Rad1,Rd7,f4,Qg6,g4,Be4,Qf2,Bd3,f5,exf5,gxf5,Bxf5,Qxf5,Qxf5,Rxf5,Re8,Bf4,g6,Rf6,Kg7,Bxc7,Kxf6,Be5+,Kg5,Rf1,f5,Kh2,h5,Kg3,h4+,Kf3,c5,Bf4+,Kf6,d5,g5,Bd2,Rde7,Rf2,Re4,b3', 'g4+,hxg4,fxg4#', 'https://lichess.org/training/kQKa4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQKrN', 'Rapid', 'vladislavho2', 1922, 'Doenertier911', 1811, 'e4,d6,d4,g6,b3,Bg7,Bb2,Nf6,Nd2,O-O,Bd3,Nc6,Ngf3,Re8,O-O,Bg4,h3,Bxf3,Nxf3,e5,dxe5,dxe5,Qe2,Nh5,Bc1,Nf4,Bxf4,exf4,Rad1,Qe7,Rfe1,Rad8,Nd2,Nd4,Qg4,Qe5,Nc4,Qc5,Qxf4,Ne6,Qg3,Bd4,Ne3,a5,a4,c6,Bc4,b5,axb5,cxb5,Bxe6,Rxe6,Qh4,Rde8,e5,Rxe5,Qxd4,Qxd4,Rxd4,f5,Rdd1,f4,Rd3,fxe3,Rdxe3,Rxe3,Rxe3,Rxe3,fxe3,Kf7,Kf2,Ke6,Kf3', 'a4,bxa4,bxa4', 'https://lichess.org/training/KQKrN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQkYl', 'Rapid', 'Masachus', 1668, 'edwinsito', 1681, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,Bc5,Re1,d6,c3,a6,Bb3,Ng8,d4,Ba7,dxe5,Bg4,exd6,h5,e5,Qd7,Bg5,f6,exf6+,Kf8,fxg7+,Qxg7,h3,Qh7,Qd5,Bxf3,Qxf3+,Kg7,dxc7,Bb6,Bf4,Nf6,Nd2,Qf5,Bh6+,Kg6,Qxf5+,Kxf5,Be3,Bxc7,Bc2+,Ke6,Bd4+,Kf7,Bb3+,Kg7,g4,hxg4,hxg4,Nxd4,cxd4,Bd6,f3,Rh2,Nc4,Bf4,Rad1,Rah8,d5', 'Rh1+,Kg2,R8h2#', 'https://lichess.org/training/kQkYl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQLIN', 'Classical', 'SKG1978', 1858, 'tristan20', 1979, 'e4,e6,d4,c5,c3,Nc6,Nf3,cxd4,cxd4,Bb4+,Nc3,Nf6,Bd3,Qb6,Be3,Ng4,O-O,Nxe3,fxe3,Be7,Rb1,Nb4,Bc4,d6,a3,Nc6,Bb5,a6,Ba4,O-O,Qd3,Qc7,Bxc6,bxc6,e5,a5,exd6,Bxd6,e4,Ba6,Qe3,Bxf1,Rxf1,Rab8,e5,Be7,Rf2,Rb7,Ng5,Bxg5,Qxg5,Rfb8,Nd1,Qe7,Qc1,Qd7,Rd2,g6,h3,Rc8,Qc5,Rb5,Qc3,Rd8,Ne3,c5,d5,exd5,a4,d4,Qc4,Rb4,Qxc5,Qxa4,Ng4,Qa1+,Kh2,Qe1,Rf2,Rf8,Qxa5,d3,e6,d2,exf7+,Kg7,Qxb4,d1=Q,Qf4,Qd8,Qh6+,Kh8,Rf4,Qc1,Ne5,Qxf4+,Qxf4,Kg7,b4,Qf6', 'Qxf6+,Kxf6,Nd7+,Kxf7,Nxf8', 'https://lichess.org/training/kQLIN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQluq', 'Rapid', 'Alireza3959', 1936, 'aaknc', 1940, 'e4,e5,Nf3,d5,exd5,e4,Ng1,c6,d3,exd3,Qxd3,cxd5,Nf3,Nf6,Bg5,Be7,Be2,Qb6,Qb5+,Qxb5,Bxb5+,Bd7,Bxd7+,Nbxd7,Nc3,O-O-O,O-O,h6,Bxf6,Nxf6,Rad1,Rhe8,Nb5,a6,Nbd4,Bc5,Nf5,g6,Nxh6,Re7,h3,Rh8,Ng4,Nxg4,hxg4,Re2,Rxd5,Bb6,Rd2,Rhe8,Rd3,Rxc2,Rc3+,Rxc3,bxc3,Re2,Ng5,f6,Nh7,Bd8,Nf8,g5,f4,Bb6+,Kh1,Re8,Ng6,gxf4,Rxf4', 'Re1+,Kh2,Bc7', 'https://lichess.org/training/kQluq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kqmAw', 'Rapid', 'IG0R71', 2094, 'M-it', 2167, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bc5,O-O,Bd7,Bxc6,bxc6,f3,Ng5,Kh1,O-O,f4,Ne4,f5,Qh4,c3,Ng3+,Kg1,Nxf1,Qxf1,Rae8,f6,Bxd4+,cxd4,Qxd4+,Kh1,Qxe5,fxg7,Kxg7,Nc3,Qe1', 'Bh6+,Kxh6,Rxe1', 'https://lichess.org/training/kqmAw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kqmBM', 'Rapid', 'Tomi55', 1864, 'Samadin', 1926, 'd4,d5,c4,e6,cxd5,exd5,Nf3,Nf6,e3,Bf5,Bb5+,c6,Ba4,Be7,O-O,O-O,Nc3,Nbd7,Nh4,Be6,Bc2,Ne4,Nf3,f5,Qd3,g5,Qe2,g4,Ne5,Bd6,Nxe4,dxe4,Bb3,Bxb3,axb3,Nxe5,dxe5,Bxe5,Qc4+,Kh8,Bd2,h5,Bc3,Qf6,Rfd1,a6,Rd7,Rab8,Qc5,Bxc3,bxc3,Rf7', 'Rxf7,Qxf7,Qe5+,Kh7,Qxb8', 'https://lichess.org/training/kqmBM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQmwl', 'Rapid', 'thegordocat', 1780, 'Antebili', 1751, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nf3,Bg4,Nc3,Be7,e5,dxe5,Qxd8+,Bxd8,Nxe5,Be6,Bb5+,Ke7,O-O,a6,Bd3,h6,Bf4,Nf6,Rfe1,Re8,Nf3,Kf8,Rad1,Bg4,Rxe8+,Nxe8,Be2,Nc6,Na4,b6,h3,Bh5,c4,Nd4', 'Nxd4,Bxe2,Nxe2', 'https://lichess.org/training/kQmwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kqnFp', 'Blitz', 'pescadoranton', 1804, 'SuperTrashTalker', 1737, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,Bxc3+,bxc3,Nf6,a4,O-O,Ba3,Re8,e3,c6,cxd5,exd5,c4,Bg4,h3,Bxf3,Qxf3,Na6,c5,Nc7,Bd3,Ne6,O-O,Ng5,Qd1,Nge4,Qc2,Qa5,Rab1,Rab8,Bb4,Qc7,a5,b6,axb6,axb6,cxb6,Qxb6,Be7,Qc7,Bxf6,Nxf6,Rxb8,Rxb8,Rb1,Rxb1+,Qxb1,g6,Qb4,Kg7,Ba6,Ne4,Qb7,Qa5,Qxc6,Qe1+,Kh2,Qxf2,Qc7,Qxe3,Qe5+,f6,Qc7+,Kh6,Qb8,Qxd4,Qf8+,Kg5,h4+,Kh5', 'Be2+,Kxh4,Qh6#', 'https://lichess.org/training/kqnFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQoe1', 'Rapid', 'manochehr_namin', 1790, 'chessishard4', 1880, 'e4,c5,Bc4,d6,a3,Nc6,c3,Nf6,d3,e6,Nf3,Be7,O-O,O-O,Ba2,a6,d4,cxd4,cxd4,Nxe4,d5,exd5,Bxd5,Nf6,Ba2,Bg4,Qd3,Bxf3,Qxf3,Qb6,Nc3,Nd4,Qd3,Ne6,b4,Qd4,Qg3,Rac8,Bb2,Qg4,Qe3,Qf4,Qh3,Ng5,Qd3,Ng4,g3,Nh3+,Kg2,Qh6,Nd5,Rfe8,Rae1,Kf8,Qf5,Nhxf2,Rxf2', 'Qxh2+,Kf3,Qxf2+', 'https://lichess.org/training/KQoe1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KqPic', 'Classical', 'QueenUpYourAct', 1799, 'luigi2015', 1687, 'd4,d5,c4,Nf6,Nf3,Bf5,Nc3,e6,cxd5,exd5,e3,c6,Bd2,Bb4,Be2,Ne4,Nxe4,Bxd2+,Nexd2,Qa5,Qb3,b5,Qc3,Qb6,Nb3,Nd7,Nc5,O-O,Nxd7,Bxd7,Ne5,Qc7,Nxd7,Qxd7,Qc5,a6,b4,h6,Bd3,Rfc8,O-O,g6,a4,Ra7,Rfc1,Rac7,Rc2,h5,Rac1,Kg7,Qb6,Ra7,axb5,Rb7,Qxa6,Ra7,bxc6,Qc7,Qb5,Rb8,Qxd5,Kf8,b5,Ra5,Rc5,Ra3,Be4,Rd8,Qg5,Re8,Bf3,Rea8,Qf6,Kg8,g3,Ra1,d5,Rxc1+,Rxc1,Rd8,b6,Qxb6,c7,Qxf6,cxd8=Q+,Qxd8,e4,Kf8,Bg2,Ke7,Bh3,Qd6,Rc6,Qb8,Kg2,Qb1,Rc7+,Kd8,Rxf7,Qxe4+,Kg1,Qxd5', 'Rd7+,Qxd7,Bxd7', 'https://lichess.org/training/KqPic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kqprf', 'Rapid', 'FacuTorres', 1885, 'alfa3or', 1926, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,f3,b6,e4,dxc4,e5,Nd5,Bxe7,Qxe7,Bxc4,Bb7,Bd3,O-O,Nge2,Nd7,Nxd5,Bxd5,Nc3,Bc6,O-O,a6,Rc1,Bb7,Be4,Bxe4,Nxe4,Rfc8,f4,f6,Qb3,f5,Ng5,Nf8,Rfd1,h6,Nf3,c6,Qxb6,Rab8,Qxa6,Ra8,Qc4,Rab8,b3,Rb4,Qa6,Qd7,d5,exd5,Rxd5,Qxd5,Qxc8,Rxf4,Qxc6,Qd3,Qc2,Qe3+,Kh1,Ne6,Qd2', 'Rxf3,Qxe3,Rxe3', 'https://lichess.org/training/Kqprf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQQCx', 'Blitz', 'chess-Diablo', 2002, 'umnyaga', 1775, 'e4,c6,d4,d5,c4,a6,Nc3,Nf6,e5,Ne4,c5,Bf5,Bd3,Nxc3,bxc3,Qd7,Nf3,Bxd3,Qxd3,g6,O-O,Bg7,Re1,O-O,Ng5,e6,Qh3,h5,g4,f6,exf6,Bxf6,gxh5,Bxg5,Bxg5,Qf7,Qxe6,Nd7,hxg6,Qxe6,Rxe6,Rf5,Be7,Re8,Rae1,b6,Rxc6,bxc5,dxc5,Nf6,Rxa6,Ne4,c6,Rxe7,c4', 'Rg5+,Kf1,Nd2#', 'https://lichess.org/training/kQQCx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kqQhA', 'Rapid', 'MinigunExplosive', 1627, 'Veniamin2012', 1800, 'd4,f5,c4,Nf6,g3,e6,Bg2,Be7,Bg5,O-O,Bxf6,Bxf6,e3,c6,Nc3,d6,Nge2,Nd7,O-O,b6,d5,exd5,cxd5,c5,e4,fxe4,Bxe4,Qe8,Nf4,Ne5,Qc2,g6,Rae1,Ba6,Nce2,Bb5,Ne6,Ba4,b3,Bd7,Nxf8,Qxf8,f4,Ng4,f5,Ne3,Qd3,Nxf1,Rxf1,a6,fxg6,hxg6,Bxg6,Bb5,Qf3,Bg7,a4', 'Qxf3,Rxf3,Bxe2', 'https://lichess.org/training/kqQhA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQrXN', 'Classical', 'alaa323', 1785, 'Imstudying', 1933, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Nf6,b4,Bb6,e5,Nxe5,Qe2,O-O,g3,Re8,Be3,d6,Bg2,c5,Nf3,Bg4,Nbd2,cxb4,cxb4,Bxe3,fxe3,Nxf3+,Bxf3,Bxf3,Qxf3,Qb6,O-O,Rxe3,Qf2,h6', 'Nc4,Rxg3+,hxg3', 'https://lichess.org/training/kQrXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kqs2e', 'Rapid', 'Isaacus_Neutonuus', 1882, 'Knipp423', 1792, 'e4,e6,d4,d5,Nc3,c5,Nf3,Nf6,e5,Nfd7,Bd3,Nc6,dxc5,Bxc5,O-O,Ndxe5,Nxe5,Nxe5,Bb5+,Bd7,Bxd7+,Qxd7,Bf4,Ng6,Bg3,O-O,Ne4,Qb5,Nxc5,Qxc5,Qd3,Rac8,Rac1,b5,Rfe1,b4,Re3,a5,c3,bxc3,Rxc3,Qb4,Qc2,Rxc3,Rxc3,d4,a3,d3,axb4,dxc2,bxa5', 'Rd8,Kf1,Rd1+', 'https://lichess.org/training/kqs2e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQSCU', 'Blitz', 'CM Patonotucupi', 2413, 'Realmadrid005', 2304, 'e4,e5,Nf3,Nf6,d4,Nxe4,dxe5,d5,exd6,Bxd6,Bd3,Nc5,Qe2+,Qe7,Qxe7+,Bxe7,Be2,O-O,O-O,Bf5,c3,Nd3,Bxd3,Bxd3,Rd1,Be2,Re1,Bxf3,Rxe7,Nc6,Rxc7,Be4,Nd2,Rad8,f3,Bg6,Rxb7,Rfe8,Kf2,Ne5,Nb3,Nd3+,Kg3,f5,Bg5,f4+,Bxf4,Nxf4,Kxf4,Re2,Nd4,Rxg2,Re1', 'Rf8+,Ke5,Re8+', 'https://lichess.org/training/KQSCU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQShm', 'Blitz', 'MediumMaestro', 1742, 'Earthsun', 1668, 'b4,e6,Bb2,Nf6,a3,d6,e3,Be7,c4,Nbd7,Nc3,c5,b5,O-O,Qc2,b6,Nf3,Bb7,Ng5,Rc8,h4,d5,cxd5,exd5,Bd3,d4,Bxh7+,Kh8,Nce4,Ne5,Nxf6,Bxf6,Bd3,Bxg2,Rh2,c4,Bxc4,d3,Qd1,Rxc4', 'Qh5+,Kg8,Qh7#', 'https://lichess.org/training/KQShm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQSNC', 'Rapid', 'kimmy67891', 1798, 'yusuff_seker', 1785, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Bc5,a3,a6,b4,Ba7,O-O,Nf6,h3,O-O,Bb2,d6,Nd5,Re8,d3,b5,Ba2,Be6,Re1,Bxd5,exd5,Ne7,c4,Ng6,d4,e4,Nh2,bxc4,Bxc4,Nf4,Bc1,Bxd4,Qxd4,N6h5,Bxf4,Nxf4,Rxe4,Rxe4,Qxe4,Qg5,Re1,Nxh3+,Kh1', 'Nxf2+,Kg1,Nxe4', 'https://lichess.org/training/KQSNC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQSxB', 'Rapid', 'Beautiful-sea', 1872, 'Zachary_Yu', 1927, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be2,Nf6,O-O,Nc6,f4,d6,e5,dxe5,fxe5,Nxe5,Kh1,Bc5,Nf3,Nxf3,Bxf3,O-O,Bg5,Be7,Qd4,Rd8,Qh4,Bd7,Ne4,Qe5,Rae1,Qxb2,c3,Bb5,Rf2,Qa3,Nxf6+,gxf6,Bxf6,Bxf6,Qxf6,Rd3,Be4,Qxc3', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/KQSxB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQTd1', 'Rapid', 'Pantaneiro', 1728, 'xxN8theGR8xx', 1728, 'd3,Nf6,d4,d5,e3,Bf5,Bd3,Qd7,f4,Ne4,Nd2,e6,Ngf3,c5,c3,cxd4,exd4,Bd6,Ne5,Qe7,O-O,Nc6,Ndf3,f6,Nxc6,bxc6,Qe2,O-O,Be3,Qc7,Nh4,c5,Nxf5,exf5,Qf3,cxd4,Bxd4,Nd2,Qh3,Nxf1,Rxf1,Bxf4,Qxf5,Bxh2+,Kh1,Be5,Qxh7+,Kf7,Bxe5,Qxe5,Qg6+,Kg8,Qh7+,Kf7,Bg6+,Ke6,Qh3+,Kd6,c4,Rh8,Bh7,d4,Qa3+,Qc5,Qg3+,Ke7,Re1+,Kf8,Qg6,d3,Rd1,Rd8,Rf1,Qg5', 'Qxg5,Rxh7+,Kg1', 'https://lichess.org/training/KQTd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQTSt', 'Classical', 'Alan9014', 1997, 'florindorache', 1746, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Nd5,Nxd5,exd5,Nb8,c4,Be7,Be2,O-O,O-O,a6,Nc3,f5,Qc2,Bf6,Be3,Nd7,Rad1,e4,Bd4,Bxd4,Rxd4,Qf6,Rfd1,Ne5,Na4,Bd7,Nb6,Rae8,Nxd7,Nxd7,b4,b6,Qa4,Ne5,Qb3,Ng6,Bh5,Nf4,Bxe8,Ne2+,Kf1,Nxd4,Qb2,Rxe8,Qxd4,Qxd4,Rxd4,Rc8,Ke2,Kf7,f3,exf3+,Kxf3,Kf6,Ke3,Ke5,g3,b5,Kd3,bxc4+,Rxc4,Rb8,Rd4,Rb5,Kc4', 'Rxb4+,Kxb4,Kxd4', 'https://lichess.org/training/KQTSt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kQuFe', 'Classical', 'anand1973', 1879, 'rasinfo83', 1894, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Qg4,c5,Nf3,Nc6,Bg5,Qb6,O-O-O,cxd4,Nxd4,Nxd4,Rxd4,Nxe5,Qf4,Ng6,Qe3,f6,Nxd5,Qc6,Nc3,Bc5', 'Bb5,Qxb5,Nxb5', 'https://lichess.org/training/kQuFe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KquWJ', 'Rapid', 'cepam', 2346, 'Alexey_Golovchenko', 2475, 'c4,Nf6,g3,e6,Bg2,Be7,Nc3,O-O,d3,d5,cxd5,exd5,Nf3,c6,O-O,Bg4,Bg5,Nbd7,a3,Qb6,Na4,Qd8,Qb3,Nb6,Rac1,Nxa4,Qxa4,h6', 'Bxf6,Bxf6,Qxg4', 'https://lichess.org/training/KquWJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kquWr', 'Rapid', 'righttothefinish', 1692, 'Luis-Callirgos', 1656, 'd4,d5,Nc3,Nf6,Bf4,e6,e3,Bd6,Nge2,O-O,Bxd6,Qxd6,Nf4,e5,dxe5,Qxe5,Ncxd5,Nxd5,Qxd5,Qxb2,Rd1,Nc6,Bd3,Nb4,Qe4,Nxd3+,Qxd3,g6,Nd5,Qe5,O-O,Bf5,Qb5', 'c6,Qxb7,cxd5', 'https://lichess.org/training/kquWr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kqvcB', 'Blitz', 'VLASTNIKCHUDA', 1657, 'crimewasp', 1607, 'e4,c5,Bc4,e6,a4,Nf6,d3,Be7,c3,Nc6,Ne2,O-O,O-O,d5,exd5,Nxd5,h3,Na5,Ba2,a6,f4,Bd7,Ng3,Nb6,f5,Bxa4,b3,Bd7,fxe6,Bxe6,b4,Bxa2,bxa5,Bxb1,Rxb1,Nd5,Bd2,Rb8,c4,Nb4,Bxb4,cxb4,Qg4,Qxd3,Rbe1,Bc5+,Kh1,Bd4,Nf5,Bc3,Rd1,h5,Qg5,Qe4,Nh6+,Kh7,Nxf7,Qxc4', 'Qxh5+,Kg8,Qh8#', 'https://lichess.org/training/kqvcB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQYGG', 'Classical', 'Ribadeo', 1787, 'Johanthebest', 1774, 'd4,Nf6,c4,e6,Nc3,b6,e4,d6,f3,Be7,Be3,Bb7,Bd3,Nbd7,Nge2,O-O,Ng3,c5,e5,Ne8,exd6,Bxd6,O-O,Bxg3,hxg3,cxd4,Bxd4,Ndf6,Bf2,Rc8,Qc2,Nd6,b3,Bc6,Rad1,Qe7,Rfe1,Rfd8,Ne2,h6,Nf4,Qb7,Nxe6,fxe6,Rxe6,Nb5,cxb5,Bxb5,Bc4,Rxd1+,Qxd1,Bxc4,bxc4,Rxc4,Qd8+,Kh7', 'Qd3+,Kg8,Qxc4', 'https://lichess.org/training/KQYGG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KQZ4A', 'Rapid', 's3v4k', 1923, 'franz1023', 1923, 'd4,Nf6,c4,e6,Nf3,h6,e3,c5,Nc3,a6,Be2,cxd4,exd4,d6,Bf4,Be7,O-O,O-O,Re1,Qc7,c5,Nbd7,b4,b6,Qc1,bxc5,dxc5,Re8,Rd1,e5,Bxh6,gxh6,Qxh6,Bf8,Qg5+,Kh8,Nd5,Nxd5,Rxd5,Re6,Rad1,Rg6,Qh5+,Kg8,Bd3,Nf6,Qh4,e4,Rg5,exd3,Rxg6+,fxg6,Qxf6,Qf7,Qd4,dxc5,bxc5,Bf5,Ng5,Qg7', 'Qd5+,Kh8,Qxa8', 'https://lichess.org/training/KQZ4A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KqzLH', 'Rapid', 'abasfotovat', 1844, 'HA2332', 1707, 'e4,c5,Nf3,a6,c3,Nc6,d4,cxd4,cxd4,e6,Nc3,Nf6,e5,Nd5,Nxd5,exd5,Be2,Qe7,O-O,d6,Bg5,Qc7,exd6,Qxd6,Bd3,Bg4,Re1+,Be7,h3,Bxf3,Qxf3,O-O,Bxe7,Nxe7,Qh5,g6,Qg5,Rfe8,Re5', 'f6,Qe3,fxe5', 'https://lichess.org/training/KqzLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kr1R6', 'Rapid', 'Tokop', 1783, 'rajvardhan123', 1807, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Bxc6,bxc6,dxe5,dxe5,Nxe5,Bd6,Nxd7,Qxd7,O-O,Qe6,f4,Ne7,e5,Bc5+,Kh1,O-O,b3,Bb6,Bb2,Rad8,Qe2,Nf5,Nd2,Qh6,Ne4,Ne3,Rf3,Nd5,g3,Qg6,c4,Ne7,b4,a5,c5,Ba7,a3,Nf5,Rd3,Rd5,Rad1,Rfd8,Nf2,Qh6,g4,Ne7,f5,Qh4,e6,f6,Kg2,Nxf5,gxf5,Qg5+,Qg4', 'Qxg4+,Nxg4,Rxd3', 'https://lichess.org/training/Kr1R6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kr1sJ', 'Blitz', 'torvic-57', 2340, 'IM ich2', 2399, 'd4,Nf6,Bf4,d6,Nd2,Nc6,Ngf3,Nh5,Bg5,h6,Be3,g5,d5,Ne5,Bd4,Bg7,Nxe5,dxe5,Bc3,Qxd5', 'e4,Qc6,Qxh5', 'https://lichess.org/training/Kr1sJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kR3Eb', 'Blitz', 'Hadarich', 1896, 'yaalper', 1846, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Be3,b5,Bb3,Bb7,f3,Qc7,a3,Nbd7,Qd2,Nb6,O-O-O,Be7,Ncxb5,axb5,Nxb5,Qd8,Nxd6+,Bxd6,Qxd6,Qxd6,Rxd6,Nbd7,g4,h6,h4,Ke7,Rd2,Ne5,f4,Nexg4,Bc5+,Ke8,Rhd1,Nxe4', 'Ba4+,Rxa4,Rd8#', 'https://lichess.org/training/kR3Eb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kr4gt', 'Rapid', 'Federico_Barberon', 1987, 'Rocky_Roy', 2023, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Na5,O-O,Nxb3,axb3,Bc5,c3,O-O,Re1,h6,d4,exd4,cxd4,Bb4,Nc3,d6,Bd2,Bb7,Qc2,Re8,d5,Bxc3,bxc3,c6,c4,cxd5,cxd5,Rc8,Qd3,Qc7,Rac1,Qd7,Rxc8,Qxc8,Bc3,Nxe4,Bxg7,Kxg7,Kf1,Nf6,Rxe8,Qxe8,Nh4,Bxd5,Nf5+,Kh8,Qh3,h5,Qh4,Qe6,Qg5,Ne8,Qxh5+,Kg8,Nh6+,Kg7,Qg5+,Qg6,Nf5+,Kh7', 'Qh4+,Kg8,Ne7+,Kf8,Nxg6+', 'https://lichess.org/training/kr4gt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kr4l3', 'Classical', 'amateur_player1', 1630, 'jpablito', 1648, 'e4,d5,Nc3,d4,Nd5,e6,Nf4,e5,Nh5,Nf6,Bc4,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/Kr4l3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kr8qp', 'Blitz', 'Cetirizin_Sputnik', 1787, 'hrd20411', 1817, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Be3,Bg4,h3,Bh5,g4,Bg6,Nc3,Nf6,Qb3,Nxe4,Nxe4,Na5,Qa4+,c6,Nfg5,d5,Bxd5,Qxd5,O-O-O,Bxe4,f3,Bg6,Ne4,Bxe4,fxe4,Qxe4,Rhe1,O-O,Bd2,Qd5,Bxa5,Bxa5,Re5,Qd6,Qxa5,b6,Qc3,c5,dxc5,Qh6+,g5,Qg6,h4,bxc5,Rxc5,a5,a4,Qh5,Qd4,Qf3,Kb1,Rab8,Rg1,Qb3,g6,fxg6,h5,Rfd8,Qc3,Rd1+,Rxd1,Qxd1+,Ka2,gxh5', 'Qc4+,Kh8,Rc8+,Qd8,Rxd8+', 'https://lichess.org/training/Kr8qp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KraAy', 'Blitz', 'Luisdany16', 2027, 'Anin_Mirror', 2349, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,dxc4,a4,Bf5,Bg5,Ne4,Bh4,Qa5,Rc1,e6,Nd2,Nxc3,bxc3,Ba3,e4,Bxc1,Qxc1,Bg6,Nxc4,Qc7,Bg3,Qd7,Nd6+,Kf8,e5,c5,Qd2,Nc6,Bb5,a6,Bxc6,Qxc6,O-O,h5,f4,h4,Bf2,h3,Be3,c4,g4,Bd3,Rf2,Rh4,Qd1,b5,f5,exf5,gxf5,bxa4,Bg5,Rh8,Qg4,Rb8,Bc1,Rb1,Qg5,Rh5', 'Qd8+,Qe8,Qxe8#', 'https://lichess.org/training/KraAy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kRb14', 'Rapid', 'ANIRUDH123456', 1694, 'ram_marella', 1755, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,Ng5,Ne5,Nxf7,Nxf7,Qh5,Qe7,Bxf7+,Qxf7,Qxc5,Nf6,Qxd4,O-O,O-O,d6,Bg5,Ng4,f3,Ne5,f4,Qg6,fxe5,Qxg5,Qd5+,Be6,Qxe6+,Kh8,Rxf8+,Rxf8,Nc3,Qe3+,Kh1,Qf2,h3,Qxc2,Qe7,Rg8,Rf1,Qxb2,Rf8,h6,Rxg8+,Kxg8,Qxc7,Qc1+,Kh2,Qf4+,Kg1,Qc1+,Kf2,Qf4+,Ke2,Qxe5,Kd3,Qg3+,Kc4,d5+,Nxd5,Qxg2,Qxb7,Qxe4+,Kc5,Qc2+,Kd6,Qxa2,Qc8+,Kh7,Qf5+,Kg8,Ne7+,Kh8,Qf8+,Kh7,Nf5', 'Qa3+,Kc7,Qxf8', 'https://lichess.org/training/kRb14');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KrcAO', 'Blitz', 'mo7amed_metwaly', 1802, 'Drfarshid', 1849, 'd4,Nf6,c4,e6,Nc3,c5,e3,a6,a4,cxd4,exd4,Nc6,Nf3,b6,Be2,Bb7,O-O,d5,Bg5,Be7,Re1,O-O,Rc1,Rc8,cxd5,Nxd5,Bxe7,Ndxe7,Bd3,Nb4,Bb1,Ned5,Ne5,Qg5,Nxd5,Nxd5,Rxc8,Rxc8,Qf3,Rc1', 'Qxf7+,Kh8,Qe8#', 'https://lichess.org/training/KrcAO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Krd5z', 'Rapid', 'Henrikpu', 1908, 'Violator71', 1955, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be6,Be3,Be7,Qd2,O-O,O-O-O,b5,Kb1,Nbd7,Qf2,Rb8,g4,Nb6,h4,Nc4,h5,b4,Nd5,Nxe3,Nxe3,a5,g5,Nd7,g6,fxg6,hxg6,h6,Nd5,a4,Nc1,Bg5,Bc4,Nb6', 'Nxb6,Bxc4,Nxc4', 'https://lichess.org/training/Krd5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('krDBS', 'Rapid', 'Mist_thief', 1704, 'MadhavRS', 1688, 'e4,c5,Nf3,e6,Nc3,Nc6,Bb5,Nf6,d3,Qb6,Bxc6,Qxc6,Be3,Be7,Ne5,Qc7,d4,cxd4,Qxd4,O-O,O-O-O,Bc5', 'Qxc5,Qxc5,Bxc5', 'https://lichess.org/training/krDBS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KrdDd', 'Rapid', 'khunly', 1905, 'Gustavosnb', 2003, 'e4,c5,Nc3,d6,f4,Nf6,Bc4,Nc6,Nf3,e6,a4,Be7,O-O,O-O,Qe1,a6,e5,dxe5,fxe5,Nd5,Qg3,Re8,d3,Nxc3,bxc3,Bf8,Ng5,Re7,Qh4,h6,Ne4,Nxe5,Bxh6,Ng6,Qh3,gxh6,Nf6+,Kh8,Ng4,e5,Bxf7,Bxg4', 'Qxg4,Rxf7,Rxf7', 'https://lichess.org/training/KrdDd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('krea8', 'Classical', 'PASTICCIOTTO', 1750, 'sgchornyy', 1876, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Bb7,Ba4,Bd6,d3,O-O,Bd2,c5,Qf5,Nc6,Bxc6,Bxc6,O-O,h6,Ne4,Nxe4,dxe4,Bd7,Qf3,f5,Nc3,fxe4,Qxe4,Qf6,Rad1,Bf5,Qd5+,Kh8,Bxh6,Rad8,Be3,Bxc2,Rd2,Be7,Qc4,Rxd2,Bxd2,Rd8,Ne4', 'Bxe4,Qxe4,Rxd2', 'https://lichess.org/training/krea8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kreRi', 'Rapid', 'ValeVV', 1797, 'gennai', 1791, 'c4,c5,Nc3,Nc6,g3,Nf6,Bg2,e6,e4,d6,Nge2,Be7,O-O,O-O,Nf4,e5,Nfd5,Nxd5,Nxd5,Re8,d3,Bf8,Bd2,Ne7,Nc3,f5,exf5,Bxf5,Bxb7,Rb8,Be4,Bxe4,dxe4,Ng6,b3,Qf6,Nd5,Qe6,Kg2,Rbc8,f4,exf4,Bxf4,Qxe4+,Kg1,Nxf4,Rxf4,Qe2,Qxe2,Rxe2,Raf1,Rxa2', 'Rxf8+,Rxf8,Ne7+,Kh8,Rxf8#', 'https://lichess.org/training/kreRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('krfP2', 'Rapid', 'DominiqueDominguez', 2180, 'sagmin', 2155, 'e4,d6,d4,Nf6,Nc3,g6,g3,Bg7,Bg2,Nc6,Nge2,e5,d5,Ne7,O-O,Bg4,f4,exf4,Bxf4,Qd7,Qd3,Nh5,Be3,Bh3,Nf4,Nxf4,Rxf4,Bxg2,Kxg2,Be5,Rf3,f5,Raf1,O-O-O,Bxa7,Bxc3,bxc3,fxe4,Qxe4,Nf5,Bd4,Rhe8,Qd3,Qa4,Bf6,Rd7,c4,Rf7,Bc3,Rfe7,Kg1,Re3,Qd2,Re2,Qd3,Rxc2,g4,Qxa2,R3f2,Rxf2', 'Rxf2,Qa3,gxf5', 'https://lichess.org/training/krfP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('krfWA', 'Rapid', 'celomelo123', 1990, 'scotthp1', 1953, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Nf3,O-O,Bd3,b6,Be4,c6,O-O,Bb7,c3,Nd7,Qa4,Rfc8,Rad1,Qf4,Qc2,h6,Rfe1,Nf6,Ne5,Ng4,Nxg4,Qxg4,h3,Qg5,b4,Ba6,a4,Bc4,b5,Bd5,c4,cxb5,Bxd5,exd5,Re5,Qf6,Rxd5,Rxc4,Qe4,bxa4,Rf5,Qd8,Qf3,Rxd4', 'Rxd4,Qxd4,Qxa8+', 'https://lichess.org/training/krfWA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KRGAw', 'Blitz', 'TheHutchTouch', 1650, 'migrant', 1706, 'e4,e6,d4,d5,exd5,exd5,Nc3,f5,Nf3,Nf6,Bg5,Be7,Ne5,O-O,Be2,c6,O-O,Nbd7,Bxf6,Nxf6,Bd3,Bd6,f4,Ne4,Nxe4,fxe4,Be2,Qh4,g3,Qe7,Bg4,Bxe5,dxe5,Bf5,c3,Rf7,Bxf5,Rxf5,Qb3,Raf8,c4,Qc5+,Kg2,dxc4,Qxb7,e3,Rae1,Qd5+,Rf3,Qd2+,Kf1,Qxh2,Qxc6,g5,Qxc4+,Kh8,Rexe3,gxf4,gxf4,Rxf4,Qc3,Qh1+,Ke2,Qg2+,Kd1,Rxf3,e6+,R8f6,e7,Rf1+,Re1,Qd5+,Kc2,Rxe1', 'Qxf6+,Kg8,Qf8#', 'https://lichess.org/training/KRGAw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KrGFa', 'Blitz', 'GoldenStriker44', 2065, 'IM AchrefLahbecha', 2321, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Nc6,Bf4,Qb6,Qc2,g6,h3,Bg7,Nf3,O-O,Nbd2,Bd7,O-O,Rac8,Qb3,Bf5,Qxb6,axb6,Bxf5,gxf5,Ne5,e6,Ndf3,Rfd8,Rfe1,Ne4,Re2,b5,Nd3,Bf8,a3,f6,Nd2,Na5,Rae1,Kf7,f3,Nxd2,Bxd2,Rc6,Nf4,Nc4,Nxe6,Rxe6,Rxe6,Nxd2,Rb6,Rd7,Rxb5,Nc4,a4,f4,b3,Ne3,Re2,Rc7,c4,dxc4,bxc4,Rxc4,Rxb7+,Kg6,a5,Rxd4,a6,Ra4,Rb6,Bc5,Rc6,Bd4,h4,Nf5+,Kh2,Ra1,h5+,Kg5,Rec2,Kh4,Rc1,Rxc1,Rxc1,Kxh5,Ra1,Bc5', 'Ra5,Be3,Rxf5+', 'https://lichess.org/training/KrGFa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KRGhH', 'Rapid', 'NoureddineIQ', 1869, 'MarshalKumarSingh', 1947, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,Bg5,Be7,Qd2,O-O,O-O-O,b5,Kb1,Bb7,h4,Nbd7,h5,d5,e5,Nxe5,h6,g6,f4,Nc4,Qe2,b4,Na4,Qa5,b3,Na3+,Ka1,Rac8,Qe5,Qd8,Nb6,Rc6,Nxc6,Bxc6,Bxa6,Ne8,Bxe7,Qxe7,Bd3,f6,Nc8,Qd7,Qb8,Nd6,Ba6,Nxc8,Bxc8,Rxc8,Qxb4,Nb5,c4,Nd6,cxd5,Bxd5,f5,gxf5,Qh4,Ne4,Rd4,Ra8,Rhd1,Qa7,R4d2,Bxb3', 'Rd8+,Rxd8,Rxd8+,Kf7,Qh5+,Ke7,Qe8#', 'https://lichess.org/training/KRGhH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KrGLr', 'Blitz', 'apsla', 1829, 'Shahram11', 1820, 'e4,c5,Nc3,g6,g3,Bg7,Bg2,e5,d3,Ne7,f4,d6,Nf3,Nbc6,O-O,Bg4,Ne2,O-O,h3,Bxf3,Bxf3,d5,exd5,Nxd5,Bg2,exf4,Nxf4,Nxf4,Bxf4,Qd4+,Kh2,Qxb2,Rb1,Qxa2,Rxb7,Nd4,Bd6,Rfe8,Rfxf7,Bh8,Bxc5,Nf5,Rxh7,Nxg3,c4,Nf5,Qb3,Qxb3', 'Bd5+,Re6,Bxe6#', 'https://lichess.org/training/KrGLr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KRGNg', 'Rapid', 'NiftyMoves1', 1681, 'Namik-Go', 1744, 'd4,d5,c4,dxc4,Nf3,g6,e3,Bg7,Bxc4,Nf6,O-O,O-O,Nc3,Bg4,Be2,c6,Qb3,Qc7,e4,Nbd7,e5,Nd5,Nxd5,cxd5,Qxd5,Nb6,Qb3,Rac8,Be3,Be6,Qa3,a6,Rac1,Qd7,Ng5,Bd5,h3,f6,Bg4,e6,Qd6,Qxd6,exd6,fxg5,Bxg5,Bf6,Rxc8,Nxc8,Bxf6,Rxf6,d7,Rf8,dxc8=Q,Rxc8,Re1,Kf7,Re2,Bxa2,Re3,Bd5,Re5,h5,Bf3,Bxf3,gxf3,Rc2,b3,Rd2,Rc5,b5,Rc7+,Kf6,Ra7,Rxd4,Rxa6,Rb4,Ra3,Kf5,Kf1,Kf4,Ke2,e5,Ra6,Rxb3,Rxg6,Rb2+,Kd3,Rxf2,Rf6+,Kg3,Ke3,Rb2,Rf5,Kxh3,Rxh5+,Kg3,Rg5+,Kh4,Rxe5,Kg3,Rg5+,Kh4,Rg8,b4,Kf4,b3', 'Rh8#', 'https://lichess.org/training/KRGNg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KRgT8', 'Blitz', 'Gowez', 2089, 'mosslegend', 2070, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e3,Bb4,Bd2,O-O,Bd3,Nc6,h4,e5,Nf3,exd4,Bxh7+,Kh8,Ng5,dxc3,bxc3,Bxc3,Bxc3,Nf6,Bd3,Bg4,Bxf6,gxf6,Qxg4,fxg5,hxg5+,Kg8,Rh8+,Kg7,Rh7+,Kg8,Qh5,Qxd3', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/KRgT8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KrhnW', 'Blitz', 'jrafaelkapote', 1657, 'Elisey-B', 1533, 'e4,e5,c4,d6,h3,Nc6,g4,Nf6,d3,Be7,Nf3,Nxg4,hxg4,Bxg4,Rg1,Bh5,Be2,Bxf3,Bxf3,g6,Nc3,h5,Nd5,h4,Bg4,h3,Rh1,h2,Qf3,Nd4,Qd1,c6,Nc3,Bh4,Be3,Qf6,Qd2,Nf3+,Bxf3,Qxf3,Rxh2,O-O-O,Ne2,Bxf2+,Rxf2', 'Rh1+,Ng1,Rxg1+,Rf1,Rxf1#', 'https://lichess.org/training/KrhnW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('krIds', 'Blitz', 'Grosbol', 2338, 'Beethoven-x', 2289, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,O-O,d6,h3,h6,c3,Bb6,Re1,O-O,Nbd2,Bd7,Nc4,Ne7,Bxd7,Qxd7,d4,exd4,cxd4,d5,Nfe5,Qe6,exd5,Qxd5,Nxb6,axb6,Be3,Rxa2,Rxa2,Qxa2,Qc1,Ned5,Bxh6,gxh6,Qxh6,Qxb2,Qg5+,Kh8,Qh6+,Nh7', 'Nxf7+,Rxf7,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/krIds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('krki3', 'Rapid', 'marcosaliena', 1798, 'Divyanz', 1851, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,Re1,Nf6,h3,O-O,c3,a6,Ba4,b5,Bc2,Ba7,d4,exd4,cxd4,Re8,Bg5,h6,Bh4,Qd7,Qd2,Nh7,Nc3,Nb4,Bb1,c5,a3,cxd4,Nxd4,Nc6,Nf5,Re6,Ba2,Rg6,Nd5,Bb7,Nfe7+,Kh8,Nxg6+,fxg6,Bg3,Ng5,Qf4,Ne5,Rad1,Rc8,h4,Ne6,Qd2,Nc5,Bxe5,dxe5,b4,Ne6,Kf1,Nd4,Qb2,Rc2,Qb1,Qg4,Ne3,Qxh4,Kg1,Qxf2+,Kh1,Nf3,Rf1', 'Qh4#', 'https://lichess.org/training/krki3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KrL6w', 'Blitz', 'bogdan422', 1967, 'CsovesGyorgy', 2016, 'd4,d6,c4,Nf6,Nc3,g6,Nf3,Bg7,e4,O-O,Bd3,Re8,O-O,c6,Bg5,Bg4,h3,Bxf3,Qxf3,Nbd7,Rad1,Qc7,d5,a6,dxc6,bxc6,Ne2,Ne5,Qe3,Nxd3,Qxd3,e5,Qxd6', 'Qxd6,Rxd6,Nxe4,Rxc6,Nxg5', 'https://lichess.org/training/KrL6w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kRl9l', 'Rapid', 'abomostafa71', 1651, 'gjh7', 1665, 'd4,Nf6,Nc3,g6,e4,d6,Bg5,Bg7,h3,O-O,Qd2,Nbd7,O-O-O,e5,d5,a5,h4,Nc5,f3,Qe8,Bxf6,Bxf6,h5,b5,hxg6,fxg6,Nxb5,Qd7,Nc3,a4,a3,Qe7,Kb1,Bb7,Bb5,Rfc8,Bc6,Bxc6,dxc6,Rcb8,Nd5,Qd8,Qh6,Rxb2+,Kxb2,Rb8+,Kc1', 'Bg5+,f4,Bxh6', 'https://lichess.org/training/kRl9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kRMJx', 'Rapid', 'damin_gambit', 2106, 'abdullah_ali', 2052, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,d6,c3,Bg4,h3,Bxf3,Qxf3,O-O,d3,Na5,Bc2,c5,Nd2,Nc6,Nf1,b4,Ng3,Re8,Nf5,Bf8,Be3,g6,Nh6+,Bxh6,Bxh6,Nh5,Qe3,Ng7,Bb3,Ne7,Bg5,Qd7,g4,Kf8,Bf6,Ng8,Bh4,h5,f3,a5,Rf1,hxg4,fxg4,Ne6,Rxf7+,Qxf7', 'Rf1,Qxf1+,Kxf1', 'https://lichess.org/training/kRMJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KRMsU', 'Blitz', 'Chu_tul', 1739, 'killlzazzzu', 1799, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c5,Bg5,cxd4,Nxd4,Be7,e3,Nc6,Nf3,O-O,Be2,a6,O-O,b6,Rc1,Bb7,Qb3,dxc4,Bxc4,Na5,Qa4,Nxc4,Qxc4,Bd5,Nxd5,Nxd5,Bxe7,Qxe7,Qb3,b5,h3,Rfc8,Rcd1,Qe8,Nd4,Rc4,Qd3,Rac8,Nf3,Rc2,Qd4,Qe7,Ne5,f6,Nf3,R8c4,Qd3,Rxb2,a3,h6,e4,Nf4,Qe3,Qc7,Nd4,Rc3,Qe1,e5,Nf5,Re2,Nxh6+,gxh6,Rd8+,Kf7,Rd7+,Qxd7,Qxc3,Qd2,Qc7+,Kg6,Qc8,Rxe4', 'Qg8+,Kf5,Qg4#', 'https://lichess.org/training/KRMsU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kRmyS', 'Rapid', 'IM Cadena2', 2629, 'oleoko', 2372, 'e4,c5,Nc3,Nc6,Nf3,g6,Bb5,Bg7,O-O,Nf6,Bxc6,dxc6,d3,O-O,Be3,b6,h3,Ne8,Qd2,Nc7,Bh6,Ne6,Bxg7,Kxg7,Ne5,Qd6,f4,Ba6,b3,Rac8,Kh1,Rfd8,Rae1,Qd4,Ng4,h5,Ne3,c4,f5,Nc5,fxg6,fxg6,bxc4,Bxc4,Nf5+,gxf5,Qg5+,Kh8,Qh6+,Kg8,Qg6+,Qg7,Qxg7+,Kxg7,dxc4,f4,Rxf4,Rf8,Ref1,Rxf4,Rxf4,Rd8,Rf2,Rd4,Re2,Rxc4,Re3,b5,a3,a5,e5,b4,axb4,axb4,Na2,Ne6,Rb3,c5,c3,bxc3,Rxc3,Re4,Rc2,Rxe5,Nc3,Nd4,Rc1,Rf5,Kg1,e5,Kh2,Ne6,Ne4,Rf4,Nxc5,Nxc5,Rxc5,Kf6,Rc6+,Kf5,Rh6,Kg5,Rh8,Ra4,Re8,Ra5,Kg3,h4+,Kf3,Ra3+,Ke4,Kf6,Rg8,Ra4+,Kf3,Ra3+,Kg4', 'Rg3+,Kxh4,Rxg8', 'https://lichess.org/training/kRmyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kRoFk', 'Blitz', 'luisRojas35', 1841, 'ElDoc40', 1842, 'd4,d5,Nf3,Nf6,e3,c6,Bd3,e6,O-O,Bd6,c4,Nbd7,Nc3,O-O,cxd5,exd5,Re1,Re8,Bf5,Bb4,a3,Bxc3,bxc3,g6,Bh3,Ne4,Qb3,Rb8,c4,Ndf6,Bxc8,Qxc8,a4,h5,a5,a6,h4,Ng4,Rf1,Qf5,Ba3,g5,cxd5,cxd5,Rac1,Ngf6,Qd3,gxh4,Nxh4,Qg4,g3,Nxg3,fxg3,Qxg3+,Ng2,Ng4,Rf4,Rxe3,Qf5', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/kRoFk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KrRCF', 'Classical', 'RCK82', 1669, 'APVELK111', 1810, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,d6,Qb3,Qg5,Bxf7+,Kd8,Bxg8,Qxg2,Qf7,Qxe4+,Ne2,Qxh1+,Kd2,Rxg8,Qxg8,Qf3,Bxg7,Nd7,Bh6,Qf6', 'Bg5,Ke8,Bxf6', 'https://lichess.org/training/KrRCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KRtL5', 'Blitz', 'ArchibaldCerveza29', 2243, 'IM Novoselski', 2422, 'e4,d6,d4,c6,Nc3,Nd7,Be3,e5,f3,Ngf6,Nge2,Be7,Qd2,O-O,O-O-O,Qc7,Kb1,b5,Re1,b4,Nd1,c5,dxe5,dxe5,g4,Nb6,g5,Nfd7,Ng3,Rd8,Nf5,Bf8,h4,a5,h5,Ba6,Bxa6,Rxa6,Qe2,c4,h6,g6,Ng7,a4,f4,exf4,Bd4,Bc5,Bxc5,Qxc5,e5,Nf8,e6,fxe6', 'Nxe6,Qe7,Nxd8', 'https://lichess.org/training/KRtL5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kRugF', 'Classical', 'OminiousDeeds', 1757, 'ensanizando', 1746, 'd4,c6,c4,d5,Nf3,Bf5,Qb3,Qc7,Nc3,Nf6,cxd5,e6,dxe6,Bxe6,Qd1,Bb4,e3,Ne4,Bd2,Nxd2,Qxd2,O-O,a3,Bd6,Bd3,Nd7,O-O,f6,Rac1,g5,d5,Bg4,Ne4,Bxf3,Nxd6,Ne5,dxc6,Qxd6', 'Bxh7+,Kxh7,Qxd6', 'https://lichess.org/training/kRugF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kRuoy', 'Blitz', 'oncapintada', 1697, 'Gilbertooliveira78', 1555, 'e4,d6,c4,Nc6,Nc3,e5,d3,Nf6,f4,Nd4,f5,Be7,Nf3,c5,Be2,O-O,Be3,a6,O-O,Bd7,Nd2,b5,Nd5,bxc4,Nxe7+,Qxe7,dxc4,Bc6,Bd3,Qb7,b3,Nxe4,Nxe4,Bxe4,f6,g6,Rf2,Rfd8,Bxd4,exd4,Qg4,Bxd3,Qg5,Kh8,Qh6,Rg8,Rf3,Qe4', 'Qxh7+,Kxh7,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/kRuoy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kRv7Q', 'Blitz', 'Simon1993', 2239, 'Aashish123chatra', 1854, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,Bd6,Nc3,Bxf4,exf4,Qd6,Qd2,O-O,Bd3,c5,dxc5,Qxc5,O-O,Nc6,Ne5,a6,Rfe1,b5,a3,Bb7,f5,Nxe5,Rxe5,Rac8,fxe6,fxe6,Rxe6,Ne4,Nxe4,dxe4,Bxe4,Bxe4,Rxe4,Qxc2,Qd5+,Kh8,Rf1,Qxb2,Re3,Rcd8,Qc5', 'Qxf2+,Rxf2,Rd1+,Re1,Rxe1+,Rf1,Rexf1#', 'https://lichess.org/training/kRv7Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kRyvx', 'Blitz', 'theheartsofdarkness', 1713, 'Aymeennnnnnn', 1710, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Be3,Nf6,Bd3,Be7,Qe2,O-O,O-O,d4,Rad1,dxe3,Bxh7+,Kxh7,Rxd8,exf2+,Rxf2,Rxd8,Ne4,a5,Nxf6+,Bxf6,Qe4+,g6,Qxa8', 'Rd1+,Rf1,Bd4+,Kh1,Rxf1#', 'https://lichess.org/training/kRyvx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kryyb', 'Rapid', 'poppybarua', 1815, 'wj9999', 1887, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,O-O,gxf3,Qxf3,Qf6,e5,Qf5,d4,Bg7,Bxf4,Ne7,Bd3,Qe6,d5,Qb6+,Be3,O-O,Bxb6,axb6,Qh5,Ng6,Bxg6,hxg6,Qg5,d6,h4,Ra4,h5,Rg4,Qe3,Bxe5,hxg6', 'Bd4,Qxd4,Rxd4', 'https://lichess.org/training/Kryyb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kRzFJ', 'Blitz', 'forgive_me', 1987, 'roverlord', 1962, 'e4,e5,Nf3,d5,Nxe5,Bd6,d4,dxe4,Bf4,Ne7,Bc4,O-O,O-O,Nbc6,Nxc6,bxc6,Bxd6,cxd6,c3,d5,Bb3,f5,f3,e3,Na3,f4,Bc2,Nf5,Qd3,Qh4,c4,Be6,cxd5,cxd5,Nb5,a6,Nc7,Rae8,Nxe8,Rxe8,Qxa6,Ng3,Rfe1,Bh3,Qc6,Rf8,Qxd5+,Kh8,Qd6,Rd8,Qe5,Nf5,Bxf5', 'Qf2+,Kh1,Bxg2#', 'https://lichess.org/training/kRzFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ks0uS', 'Blitz', 'IM KillerBateman', 2614, 'Ronnie30', 2436, 'e4,e6,b3,d5,Bb2,dxe4,Nc3,Nf6,Qe2,Nbd7,Nxe4,Be7,Nf3,b6,d4,Bb7,Ng3,O-O,O-O-O,a5,a4,c5,dxc5,Bxc5,Ne5,Qc7,Nxd7,Nxd7,Qg4,g6,Bb5,Rfd8,Nh5,Be7,Nf4,Nc5,h4,Nxb3+,Kb1,Nd2+,Kc1,Rac8,c3,Ba3,Rh3,Bxb2+,Kxb2,Nc4+,Bxc4,Qxc4,Rhd3,Bd5,Nxd5,Qxg4', 'Nf6+,Kg7,Nxg4,Rxd3,Rxd3', 'https://lichess.org/training/ks0uS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ks1Tx', 'Rapid', 'RAYFRAN48', 1731, 'daguilarCHT', 1757, 'e4,e5,Bc4,Nc6,Nf3,Bc5,c3,Nf6,d4,exd4,O-O,O-O,a4,dxc3,bxc3,Nxe4,Be3,Bxe3,fxe3,d5,Bb3,Qe7,Bc2,Nxc3,Bxh7+,Kxh7,Nxc3,Qxe3+,Kh1,Qxc3,Qxd5,Qf6', 'Ng5+,Qxg5,Qxg5', 'https://lichess.org/training/Ks1Tx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KS2b8', 'Rapid', 'BrunoNunes2', 1870, 'god20kermanshah19', 1926, 'd4,d5,Bf4,Nc6,Nf3,Bf5,a3,h6,e3,a6,Be2,Nf6,h3,e6,c4,Bd6,Bxd6,cxd6,Nc3,dxc4,Bxc4,d5,Be2,Ne4,O-O,O-O,Nd2,Qg5,Ndxe4,dxe4,Bg4,Bxg4,Qxg4,f5,Qxg5,hxg5,Rac1,Rad8,Na4,Rf7,Nc5,Re7,Rfd1,Kf7,Rc3,Rd5,Rd2,Kf6,Rdc2,Nd8,Na4,b5', 'Nb6,Rd6,Nc8', 'https://lichess.org/training/KS2b8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ks3fZ', 'Blitz', 'skimel', 1508, 'buboybrown', 1532, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,e5,Nxc6,bxc6,Bxc6+,Bd7,Bxa8,Qxa8,Nc3,Nf6,Qe2,Bg4,f3,Bh5,O-O,Be7,Qb5+,Nd7,Nd5,Bd8,Bd2,Bb6+,Nxb6,axb6,Bb4,Qb8,a4,Qc7,Rfc1,O-O,a5,Rb8,a6,Nc5,Bxc5,bxc5,Qc4,Qa7,Qd5,Rb6,Ra2,Rxa6,Rca1', 'c4+,Kf1,Rxa2,Rxa2,Qxa2', 'https://lichess.org/training/ks3fZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ks3Nm', 'Rapid', 'NaotoMatsui', 1936, 'shijumaj', 1966, 'g4,Nc6,Bg2,d5,c4,Nf6,g5,Ng8,cxd5,Ne5,d4,Ng6,Nc3,e6,h4,h5,e4,N8e7,f4,exd5,f5,Bxf5,exf5,Nxf5,Nf3,Bd6,Qe2+,Nfe7,Nxd5', 'Bg3+,Kf1,Qxd5', 'https://lichess.org/training/Ks3Nm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KS3rH', 'Classical', 'Bahraf', 1634, 'Cannonbait', 1649, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Be2,Bc5,h3,d6,d3,h6,O-O,O-O,a3,a6,b4,Ba7,Bb2,Nd4,Nxd4,Bxd4,Rb1,Bd7,Nd5,Ba7,Ne3,c6,Bg4,Re8,Nf5,Nxg4,Qxg4,Qf6,Kh1,Kh7,Qe2,Bxf5,exf5,Qxf5,Qe4,Qxe4,dxe4,f6,f3,d5,exd5,cxd5,c3,Rad8,Rbd1,b5,Ra1,d4,cxd4,exd4,Rfd1,Re2,Bc1,d3,Bd2,Be3,Bxe3,Rxe3,Rd2,Kg6,Kg1,Kf5,Kf2,Kf4', 'g3+,Kf5,Kxe3', 'https://lichess.org/training/KS3rH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ks4p3', 'Rapid', 'stef0n2', 1894, 'mas2012', 1834, 'd4,d5,Nf3,e6,g3,Nf6,Bg2,Bd6,O-O,b6,c4,h6,Nc3,Nbd7,Bd2,a6,Qc1,Bb7,a3,Qe7,Re1,dxc4,e4,e5,d5,c6,Be3,b5,h3,cxd5,exd5,Nxd5,Nxd5,Bxd5,Rd1,Bb7,Qd2,Bc5,Bxc5,Nxc5,Nxe5,Bxg2,Kxg2,Rd8', 'Qxd8+,Qxd8,Rxd8+,Kxd8,Nxf7+,Ke7,Nxh8', 'https://lichess.org/training/Ks4p3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KS4UN', 'Rapid', 'NATANAEL92', 2119, 'netinha', 2055, 'e4,c5,Nc3,d6,f4,g6,Nf3,Bg7,Bc4,Nc6,a3,Nf6,d3,O-O,O-O,Bg4,Qe1,Nd4,Nxd4,cxd4,Ne2,Qb6,f5,Bxe2,Qxe2,Kh8,Bg5,Qc5,Qf2,b5,Bb3,Rac8,Qh4,a5,Rf2,a4,Ba2,Qe5,Raf1,d5,Bf4,g5,Qxg5,Nxe4,dxe4,Qxe4,f6,Bxf6,Qxd5,Qg6,Bb1,Rg8,c3,Qg7,Qxb5,dxc3,bxc3,Rxc3,Kh1,Bd4,Qe2,Bxf2,Qxf2,Rxa3,g3,Qc3,Kg2,Qc6+,Kg1,Rb3,Qc2,Qb6+,Kg2,Rb2,Be5+,f6,Rxf6', 'Rxc2+,Rf2+,Rg7', 'https://lichess.org/training/KS4UN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KS4XG', 'Rapid', 'Dharshu', 1663, 'BESTFRIENDS123', 1787, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nc6,Qf3,Nf6,Nd5,Nd4,Qd3,Nxd5,Qxd4,Nf6', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/KS4XG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kS6kd', 'Blitz', 'faffyell', 1606, 'Maicolmatos', 1616, 'e3,c5,Qf3,d5,Nc3,Nf6,Bb5+,Nc6,Bxc6+,bxc6,Nh3,Bg4,Qf4,e6,Ng5,Bd6,Qa4,Qc7,h3,Bh5,g4,Bg6,b3,h6,Nf3,Rb8,Bb2,Rb4,Qa6,O-O,O-O-O,Rfb8,d4,R8b6,Qe2,c4,g5,Ne4,Nxe4,Bxe4,gxh6,cxb3,axb3,c5,Rhg1,g6,Ng5,c4,h4,cxb3,h5,bxc2,hxg6,cxd1=Q+,Kxd1,Bxg6,h7+,Kh8,Nxf7+,Bxf7,Qg4,Bf8', 'Qg8+,Bxg8,hxg8=Q#', 'https://lichess.org/training/kS6kd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ksAeD', 'Classical', 'rmgelber', 1875, 'laki-1975', 1770, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Nxe4,Bxb4,Nxb4,Qb3,Qe7,O-O,O-O,Re1,c6,d5,b5,Bd3,cxd5,Nc3,Nxd3,Nxd5,Qc5,Qxd3,Nxf2,Qe3,Qxe3,Rxe3,Bb7', 'Ne7+,Kh8,Kxf2', 'https://lichess.org/training/ksAeD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kSANS', 'Rapid', 'garciayhernandez', 1606, 'harrisonfold', 1619, 'e4,e5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,d4,h6,dxe5,dxe5,O-O,Ngf6,b3,Bd6,Bb2,O-O,Ba3,c5,c4,b6,Bb2,Bc7,Nbd2,Re8,Nh4,Nxe4', 'Nxe4,Qxh4,Qxd7,Qxe4,Qxc7', 'https://lichess.org/training/kSANS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kSAue', 'Rapid', 'NATALIA2016', 1687, 'jugador1000', 1704, 'd4,d5,Nf3,Bf5,e3,Nf6,Be2,e6,O-O,Nc6,b3,a6,Bb2,Bd6,Nbd2,Ne7,c4,c6,c5,Bb8,a4,Ng6,b4,Qc7,b5,b6,cxb6,Qxb6,bxa6', 'Qxb2,Qb3,Qxb3', 'https://lichess.org/training/kSAue');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KSaZx', 'Blitz', 'FM Belka1989', 2473, 'Ondrej001', 1901, 'e4,d5,exd5,Qxd5,Nc3,Qa5,b4,Qxb4,Rb1,Qd6,Nb5,Qd8,Nf3,c6,Nc3,Nf6,d4,Qc7,Bc4,Bf5,O-O,e6,Ne5,Bd6,Bf4,O-O,Re1,b5,Bf1,Nbd7,Bg3,Rad8,Bxb5,cxb5,Nxb5,Qb8,Nxd6,Qxd6,Nxf7,Qd5,Nxd8,Rxd8,f3,Nb6,Bf2,Rc8,Re5,Qc4,Rc5,Rxc5,dxc5,Nbd5,Rc1,Nb4,Qd8+,Kf7,Qc7+,Kg6,Qg3+,Kf7,Qc7+,Kg6,Qxa7,Nd3,Qa3,Nxf2,Kxf2,Nd5,c3,Qd3,Qb2,Nf4,Kg3,h5,Kxf4,Kf6,c4+,Kg6,Qe5', 'Qd2+,Qe3,e5+,Kxe5,Qxe3+', 'https://lichess.org/training/KSaZx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ksdd6', 'Rapid', 'Joko_NPC', 2078, 'MrPhilosophe', 1946, 'e4,b6,d4,Bb7,Bd3,e6,Ne2,c5,c3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Nxd2,Ne7,O-O,O-O,Nf3,Nbc6,a3,Rc8,d5,exd5,exd5,Nxd5,Bxh7+,Kxh7,Qxd5,Na5', 'Qh5+,Kg8,Ng5,Qxg5,Qxg5', 'https://lichess.org/training/Ksdd6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ksDqe', 'Rapid', 'Duhr', 1727, 'Baxo', 1891, 'e4,e5,Nf3,d6,Bc4,Be7,d3,Nf6,c3,O-O,O-O,Bg4,Be3,Nc6,a3,a6,Nbd2,b5,Ba2,h6,h3,Be6,Bb1,Nh7,Bc2,Ng5,a4,Nxf3+,Nxf3,f5,Nd2,f4,Bxf4,Rxf4,g3,Rf6,Kg2,Qd7,g4,Raf8,f3,Rf4,axb5,axb5,Rf2,Bh4,Rf1,Nd8,d4,h5,d5,hxg4,dxe6,gxh3+,Kh2,Qxe6,Rg1,Bf2,Rg4,Rxg4,fxg4,Be3,Kxh3,Nf7,Nf3,Qh6+,Kg2,Qf4,Bb3,Qxg4+,Kf1,c5,Bxf7+,Rxf7,Ra8+,Rf8', 'Qd5+,Kh7,Rxf8', 'https://lichess.org/training/ksDqe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KsEg3', 'Rapid', 'ahmedQmahdy', 1766, 'Max1893', 1795, 'e4,g6,Bc4,d6,d3,Bg7,Nc3,a6,a4,Nd7,Be3,b6,Nge2,Bb7,O-O,e6,f4,Nc5,Kh1,Qd7,e5,d5,Bb3,Nxb3,cxb3,c5,d4,cxd4,Bxd4,Ne7,Bxb6,O-O,Bc5,Rac8,b4,a5,Bxe7,Qxe7,b5,Qb4,b3,Rxc3,Nxc3,Qxc3,Rc1,Qb2,Rc7,Rb8,Qf3,d4', 'Rxb7,Rxb7,Qxb7', 'https://lichess.org/training/KsEg3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kSeHy', 'Blitz', 'FM stoni111121', 2465, 'greebish36', 2387, 'Nf3,Nf6,c4,c6,d4,d5,cxd5,cxd5,Nc3,Nc6,Bf4,Bf5,e3,e6,Bb5,Nd7,Qa4,Rc8,O-O,a6,Bxc6,Rxc6,Rfc1,b5,Qd1,Qc8,Ne2,Bc2,Qd2,Be7,Ne1,Bg6,Rxc6,Qxc6,Rc1,Qa8,Rc7,Bd8,Rc3,Ba5,Bd6,Bxc3,Qxc3,Qb7,Nf4,Bf5,h4,h5,Ned3,f6,a3,Kf7,Nc5,Qc6,Nxd7,Qxd7,Bc5,Rc8,Ne2,Qc7,Ng3,Bg4,Qe1,g5,hxg5,h4,g6+,Kxg6,Nf1,h3,g3,e5,Nh2,Be6,Qb1+,Bf5,Qd1,exd4,exd4,Re8,g4,Bd7,Qd3+,Kg7,Qxh3,Qf4,f3,Rh8,Qg2,Qc1+,Nf1,Qf4,Qg3,Qxg3+,Nxg3,Re8,Nh5+,Kg6,Kf2,Kg5,Ng3,Rh8,Bb4,f5,Bd2+,Kg6,gxf5+,Bxf5,Ne2,Rc8,Ke3,Kf7,Nf4,Be6,Bc3,Rc4,Nd3,Rc8,Ne5+,Ke7,f4,Kd6,f5,Bxf5,Kf4,Be6,Kg5,Rg8+,Kf6,Rf8+,Kg7,Rf5,Kg6,Rf8', 'Bb4+,Kc7,Bxf8', 'https://lichess.org/training/kSeHy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ksem7', 'Rapid', 'trifasica', 1699, 'chessjip', 1687, 'e4,e5,Nf3,Nc6,Bb5,d6,d3,Nf6,Bc4,h6,Nc3,Bg4,Be3,Be7,Qd2,Bxf3,gxf3,O-O,Rg1,g5,h4,d5,hxg5,Nh7,gxh6+,Kh8,Bxd5,Nb4,Bxb7,Rb8,Bd5,Nxd5,Nxd5,Rg8,Nxe7', 'Rxg1+,Ke2,Rxa1', 'https://lichess.org/training/ksem7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KSiIL', 'Classical', 'GreenStarEY', 1674, 'pasha101', 1716, 'e4,e5,Nf3,d6,d4,Bg4,Be2,h6,Nc3,a6,dxe5,Bxf3,Bxf3,Nc6,exd6,Bxd6,O-O,Nf6,Re1,Ne5,h3,Qe7,Be2,O-O,Bd3,Nxd3,cxd3,Qe5,f4,Bc5+,Kh1,Qh5,Qxh5,Nxh5,Nd5,Rac8,Be3,Bxe3,Ne7+,Kh8,Nxc8,Ng3+,Kh2,Bxf4,Kg1,Rxc8,Kf2,f6,Kf3,g5,h4,Rd8,Rad1,Nh5,hxg5,fxg5,g4,Ng7,e5,Ne6,Re4,c5,b4,Nd4+,Kf2,cxb4,e6,Nc6,d4,Ne7,d5,Bd6,Rh1,Kg7,Rd1,Rc8,Ke3,Rc3+,Kd4,b5,Re3,Rc4+,Kd3,Rxg4,Rf1,Nxd5,Rf7+,Kg8,e7,Nf4+', 'Rxf4,Bxe7,Rxg4', 'https://lichess.org/training/KSiIL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KsjVI', 'Rapid', 'hamedst', 1660, 'Motobecane', 1861, 'Nf3,d5,g3,c5,Bg2,Nf6,O-O,Bg4,d3,h6,Ne5,Bh5,c4,Nc6,cxd5,Nxe5,Qa4+,Ned7,d6,exd6,Bxb7,Rb8,Bc6,Be7,d4,Rb4,Qxa7,Rxd4,Nc3,O-O,Be3,Rb4,Nb5,Bxe2,Rfe1,Bxb5,a3,Ra4,Qb7,Bxc6,Qxc6,Re4,Red1,Ne5,Qb7,Nc4,Bc1,Na5,Qb5,d5,Be3,d4,Bf4,Nd5,b4,Nc3,Qa6,Nb3,Rxd4,Qxd4,Be3,Qd5,Re1,Rxe3,Rxe3,Qd1+,Kg2,Bg5,Rxc3,Nd2,Rxc5,Re8,Qb5,Re2,Rc8+,Kh7', 'Qf5+,g6,Qxf7#', 'https://lichess.org/training/KsjVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kSK6w', 'Blitz', 'CarpathianBulldog', 2274, 'MiroLewy66', 2293, 'd4,c5,d5,f5,c4,Nf6,Nc3,d6,Nf3,g6,h4,Bg7,h5,gxh5,Bg5,Nbd7,e3,h6,Bf4,O-O,Be2,a6,a4,Qe8,Rh3,Ne4,Qc2,Nxc3,bxc3,Nf6,Nh4,Ne4,Ra3,Bd7,Bf3,Ng5,Rg3,Bf6,Ke2,Kh8,Ra1,Nxf3,Nxf3,h4,Rh3,Qh5,Rah1,b5,Kd2,Qg4,Bxh6,b4,Bf4,bxc3+,Kd3,e5,dxe6,Qxg2,Nxh4,Qe4+,Ke2,Qxc2+,Kf1,Qd1+,Kg2,Bc6+,Nf3+,Kg8,Rg3+,Bg7,Rxd1,Bxa4,Rh1,Rf6,Bh6,Rxh6,Rxh6,c2,Rhg6,Ra7,Ng5,Bc6+,f3,c1=Q,Nf7,Qd2+,Kh3,Rxf7,exf7+,Kxf7,Rxg7+,Ke6', 'R3g6+,Ke5,Re7#', 'https://lichess.org/training/kSK6w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KSKyc', 'Rapid', 'karmaldo', 1964, 'Augusto1962', 2362, 'c4,e5,Nc3,Bb4,g3,Bxc3,dxc3,d6,Bg2,Nc6,Nf3,h6,O-O,Be6,b3,Nge7,Qc2,Qd7,Rd1,Bh3,Bh1,O-O-O,c5,d5,b4,e4,b5,exf3,bxc6,Nxc6,Bxf3,Qe7,Rxd5,Rxd5,Bxd5,Qxc5,Bg2,Bxg2,Kxg2,Rd8,Be3,Qd5+,Kg1,a6,a3,Na5,Bd4,g6,f3,Nb3,Rd1,c5,c4', 'Nxd4,cxd5,Nxc2', 'https://lichess.org/training/KSKyc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ksLxa', 'Rapid', 'patricksingh_25', 1993, 'thealibek', 1949, 'e4,e6,d4,d6,c4,Bd7,Nc3,Be7,Bf4,Nf6,Bd3,e5,dxe5,dxe5,Bxe5,O-O,Qc2,Nc6,Bxf6,Bxf6,Nge2,Re8,O-O-O,Ne5,f4,Nxd3+,Rxd3,Qe7,e5,Bf5,Qd2,Bxd3,Qxd3,Rad8,Qc2,Bxe5,fxe5,Qxe5,Kb1,Qe3,a3,Rd2,Qa4,Qd3+,Ka2,Rxb2+', 'Kxb2,Rxe2+,Nxe2', 'https://lichess.org/training/ksLxa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KsMqH', 'Rapid', 'Superdubel', 1984, 'bfirestone', 1902, 'd4,d5,Bf4,Nc6,Nf3,Bf5,e3,Nb4,Na3,e6,c3,Nc6,Bb5,Ne7,O-O,a6,Be2,Ng6,Bg3,Bd6,Bxd6,Qxd6,c4,O-O-O,cxd5,Qxd5,Nc4,Be4,Rc1,e5,a3,exd4,exd4,Nxd4', 'Nb6+,Kb8,Nxd5', 'https://lichess.org/training/KsMqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KSrF7', 'Blitz', 'Rolanddd', 1694, 'bonerook', 1701, 'e4,e5,Nf3,d6,Bc4,Nc6,Nc3,Bg4,O-O,Nf6,h3,Bxf3,Qxf3,Nd4,Qd3,c6,Ne2,Nxe2+,Qxe2,b5,Bb3,a6,a4,c5,c3,c4,Ba2,Be7,d3,O-O,dxc4,bxc4,Bxc4,a5,Bg5,Nd7,Bxe7,Qxe7,Bb5,Nc5,Rab1,Ne6,Bc4,Nf4,Qf3,Qg5,Qg4,Qf6,g3,Ng6,h4,Rac8,b3,Ne7,f4,d5,fxe5,Qxe5,Bxd5,Nxd5,exd5,Qxd5,Rfd1,Qc5+,Kh2,Qf2+,Kh3,Rxc3,Rf1,Qc2,Qf4,Rxb3,Rbc1,Qd3', 'Qxf7+,Rxf7,Rc8+,Qd8,Rxd8+,Rf8,Rfxf8#', 'https://lichess.org/training/KSrF7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kSriC', 'Classical', 'nazzzgul', 1780, 'pavelcap', 1881, 'Nf3,Nf6,g3,g6,Bg2,d5,O-O,Nc6,d3,Bg4,c3,h5,Na3,Qd7,Re1,Bh3,Bh1,O-O-O,Bf4,h4,Nb5,e5,Nxe5,Nxe5,Bxe5,Be7,a4,Rh5,Bxc7,Rdh8,e4,a6,exd5,hxg3,fxg3,Bf5,h4,axb5,d6,Bxd6,Bxd6,Qxd6,Qf3,Qc6,Qxh5,Qxh1+,Kxh1,Nxh5,Kh2,bxa4,Rxa4,Kd7,Rd4+,Kc6,b4,Be6,Re5,b6,c4,Ra8,b5+,Kc7,Re2,Nf6,Rf4,Nd7,g4,Rh8,Kg3,Rd8,Rc2,Nc5,d4,Nd3,Re4,Nb4,Rc3,Na2,Ra3,Bxc4,Re7+,Kb8,Rea7,Rxd4,Ra8+,Kc7,R3a7+,Kd6,Rd8+,Kc5', 'Rc7+,Kxb5,Rxd4', 'https://lichess.org/training/kSriC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KSTWc', 'Blitz', 'NM Loy_Konstantin', 2322, 'awikfirst', 1825, 'e4,d6,d4,c6,Nc3,Nf6,f4,Qc7,Bd3,e5,Nf3,Bg4,dxe5,dxe5,O-O,Nbd7,h3,Bxf3,Qxf3,Bd6,f5,O-O-O,Be3,Bc5,Qf2,Qb6,Bxc5,Nxc5,Rad1,Nh5,Ne2,Nf6,Ng3,h5,h4,Ng4,b4,Nxf2,bxc5,Nh3+,Kh2,Qxc5,Kxh3,g6,fxg6,fxg6,Rf6,Rd5,exd5,cxd5,Bxg6,e4,Rf5,Qxc2,Rdxd5,Qxa2,Nxe4,Kb8,Rde5,a6,Re7', 'Qa3+,Ng3,Qxe7', 'https://lichess.org/training/KSTWc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KsuX6', 'Blitz', 'kohala', 2742, 'NM TrappedPiece', 2579, 'd4,d5,c4,e6,Nc3,Be7,Nf3,Nf6,Bf4,O-O,e3,b6,cxd5,Nxd5,Bg3,Bb7,Be2,c5,Nxd5,Qxd5,dxc5,Qxd1+,Rxd1,Bxc5,O-O,Nc6,Rd7,Bc8,Rc7,Ne7,Rd1,Nd5,Rxc5,bxc5,Bd6,Rd8,Bxc5,Bb7,Nd4,Nb6,b3,e5,Nf5,Rxd1+,Bxd1,g6,Nd6,Bd5,e4,Be6,Kf1,Nd7,Be3,a5,Ke1,Ra6,Nb5,Rc6,Na7,Rc7,Nb5,Rc8,Na7,Ra8,Nb5,Kg7,Kd2,f5,f3,Kf6,exf5,gxf5,g3,Rg8,Be2,Nf8,Nc7,Rg7', 'Ne8+,Kg6,Nxg7', 'https://lichess.org/training/KsuX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KsUXH', 'Rapid', 'alonshocron', 2055, 'Schachathlet', 2048, 'c4,g6,g3,Bg7,Bg2,d6,Nc3,e5,e4,Ne7,Nge2,O-O,d4,exd4,Nxd4,f5,O-O,Nbc6,Be3,Bd7,Rc1,Ne5,Nd5,Nxd5,cxd5,fxe4,Bxe4,Ng4,Bg2,Nxe3,fxe3,Rxf1+,Qxf1,Qg5,Qd3,Re8,Ne6,Bxe6,dxe6,Rxe6', 'Bd5,Kh8,Bxe6', 'https://lichess.org/training/KsUXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KsVDs', 'Rapid', 'Brahim04z', 1687, 'VPVP', 1657, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,h6,a3,d6,d3,a6,h3,b5,Bb3,Rb8,O-O,h5,Bg5,Bg4,hxg4,hxg4,Nh4,Rh5,Bxf6,Qxf6,g3,Be7,Qxg4,Nd4,Rac1,g5,Qxh5,gxh4,Qxh4', 'Nf3+,Kg2,Nxh4+', 'https://lichess.org/training/KsVDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KSVuZ', 'Rapid', 'AbhisekHere', 1895, 'Crucifixion1', 1763, 'e4,d5,exd5,Qxd5,Nc3,Qd4,Nf3,Qd6,Be2,e5,O-O,Nf6,Nxe5,Qxe5,Bb5+,c6', 'Re1,Qe7,Rxe7+', 'https://lichess.org/training/KSVuZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kSwfi', 'Rapid', 'Moha-MMad-01', 2347, 'BehindBluEyes', 2332, 'Nf3,d5,c4,e6,g3,Nf6,b3,c5,Bg2,Nc6,O-O,Bd6,cxd5,exd5,d4,O-O,dxc5,Bxc5,Bb2,Be6,e3,Rc8,Nd4,Bg4,Qd2,Re8,Nxc6,bxc6,Na3,Qe7,Nc2,Ne4,Qd3,Bf5,Qe2,Qd7,Nd4,Bg6,Rac1,Bb6,Rfd1,c5,Nb5,Rcd8,Nc3,Nxc3,Bxc3,d4,Qc4,Qf5,exd4,cxd4,Bxd4,Bxd4,Rxd4,Rc8,Qf1,h6,Rxc8,Rxc8,Qd1,Rc2,Rd8+,Kh7,Rd2,Rxd2,Qxd2,Qb1+,Bf1,Bf5,Kg2,Be4+,f3,Bxf3+,Kxf3,Qxf1+,Kg4,g6,Qd7,Qe2+,Kh3,Qf1+,Kh4,g5+,Kg4,a6', 'Qf5+,Qxf5+,Kxf5', 'https://lichess.org/training/kSwfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kSwT3', 'Rapid', 'AlexanderAndreev2006', 1852, 'RandomBadger', 1861, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nf6,Bg5,Nc6,Bb5,Bd7,Qd3,e6,O-O,Be7,Nc3,Qb6,Rad1,Rd8,Rfe1,a6,Ba4,O-O,Bb3,Na5,Qe2,Nxb3,axb3,Bc6,e5,dxe5,Nxe5,Qc7,Nxc6,Qxc6,Qe5,Bd6,Rxd6,Rxd6,Bxf6,gxf6,Qxf6,e5,Qxe5,Rg6,Nd5,Qe6', 'Ne7+,Qxe7,Qxe7', 'https://lichess.org/training/kSwT3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KSWYj', 'Blitz', 'Njurus', 1662, 'StormElement', 1663, 'e4,c5,Nc3,Nc6,Bc4,g6,f4,Bg7,Nf3,e6,O-O,Nge7,Ne2,d6,a3,Bd7,c3,Qc8,Ba2,e5,fxe5,Nxe5,Nxe5,Bxe5,Ng3,h5,d4,Bf6,e5,dxe5,dxe5,Bxe5,Bxf7+,Kd8,Bg5,Rh7,Ne4,Qc6,Bxg6,Rg7,Bf5,Kc7,Bxd7,Qxd7,Bxe7,Qxe7,Qd5,b6,Rae1,Rd8,Qb3,Qh4,Ng3,Rxg3,hxg3', 'Bxg3,Qf7+,Rd7,Qxd7+,Kxd7', 'https://lichess.org/training/KSWYj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KsZ8F', 'Rapid', 'Alexandr_B', 1813, 'feb82', 1817, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bg5,e6,a3,Nbd7,f3,Be7,e4,dxe4,fxe4,Ng8,Bxe7,Nxe7,Nf3,O-O,Bd3,f5,O-O,Nf6,Qc2,Ng4,Rae1,a6,h3,Nf6,exf5,exf5,Ne5,Qxd4+,Kh1,b5,Bxf5,Nxf5,Rxf5,Bxf5,Qxf5,Qb6,Qf3,Rad8,Rf1,Nd5,Qxf8+,Rxf8,Rxf8+,Kxf8,Nd7+,Ke7', 'Nxd5+,Kxd7,Nxb6+,Kc6,Nc8', 'https://lichess.org/training/KsZ8F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KSZQl', 'Rapid', 'marcosramirez', 1652, 'mucadeleci', 1668, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,Be2,Bd6,Bxd6,Qxd6,Nbd2,O-O,O-O,c5,c3,c4,b3,b5,bxc4,bxc4,Ne5,Nbd7,Ndf3,a5,Qa4,h6,Nh4,Nb6,Nxf5,exf5,Qc6,Qxc6,Nxc6,Ne4,Ne5,Nxc3,Bd1,Nxd1,Rfxd1,f6,Nf3,c3,Ne1,Rfc8,Nc2,Nc4,a4,Rab8,Rab1,Nb2,Rf1,Nxa4,h3,Rxb1,Rxb1,Nb2,Kf1,a4,Ke2,a3,Nxa3,c2,Rc1,Nc4,Rxc2,Kf7,Nxc4,dxc4,f4,Ke6,Kd2,Kd5,Ra2,c3+,Kc2,Ke4,Ra7,g5,fxg5,fxg5', 'Re7+,Kd5,Re5+,Kd6,Rxf5', 'https://lichess.org/training/KSZQl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kt2L5', 'Rapid', 'leonzeng', 1872, 'esmiro', 1754, 'd4,d5,e3,g6,Nf3,Bh6,c4,c6,Nc3,Nf6,cxd5,Nxd5,Nxd5,cxd5,Bb5+,Bd7,Qb3', 'Qa5+,Bd2,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/kt2L5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kt2wl', 'Rapid', 'ossama-ichi', 1905, 'sibitshomahootaa1999', 1893, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nxc3,Be6,Bb5+,c6,Bd3,Nf6,Nf3,h6,b3,Qa5,Bb2,Nbd7,O-O,Be7,Bb1,O-O,Nd4,d5,Nxe6,fxe6,a3,Qc7,exd5,exd5,b4,Bd6,g3,Rae8,Ne2,Ne5,Nd4,Nc4,Bc3,Ne4,Bxe4,Rxe4,b5,Bc5,Nb3,Bxa3,Nd2,Nxd2,Qxd2,Bc5,Rfe1,Rxe1+,Rxe1,Bxf2+,Kh1,Bxe1,Qxe1,Qf7,bxc6,bxc6,Bd4,a6,Qa5,Qf1+,Bg1,Qb5,Qe1,a5,Qe6+,Kh8,Bd4,Rf1+,Kg2,Rf8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/kt2wl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kt4ZN', 'Classical', 'PAA1987', 1858, 'pavel-maltsev', 2061, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,b4,Bb6,d3,d6,h3,O-O,O-O,h6,Be3,Bxe3,fxe3,d5,exd5,Nxd5,Qe2,a6,a4,Be6,Bxd5,Qxd5,e4,Qd6,Nbd2,Rad8,Ne1,Nxb4,cxb4', 'Qd4+,Rf2,Qxa1', 'https://lichess.org/training/kt4ZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kT5mN', 'Blitz', 'buhuri', 1658, 'Nicolay_06', 1832, 'e3,b6,d4,Bb7,c4,e6,Nf3,d5,Nc3,Bb4,Be2,c5,O-O,Nf6,a3,Bxc3,bxc3,dxc4,Bxc4,cxd4,exd4,Nd5,Bxd5,Qxd5,Bf4,Qf5,g3,g5,Ne5,gxf4,Qa4+,Kf8,Qb5,Qh3,f3,fxg3,hxg3,Qxg3+,Kh1,Qh3+,Kg1,Rg8+,Kf2,Qh2+,Ke1,Rg1,Kd1,Ba6,Qb4+,Kg7,Rxg1+,Qxg1+,Kc2,Qxa1,Qe7,Qa2+,Kc1,Qxa3+,Kc2,Qa2+,Kc1,Qg2,Qxf7+,Kh8', 'Qf8+,Qg8,Nf7#', 'https://lichess.org/training/kT5mN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kT6O2', 'Rapid', 'VitoJanko', 1781, 'chrisdon', 1789, 'e4,e6,d4,d5,e5,Ne7,Nf3,Ng6,Bd3,Be7,O-O,c5,c3,cxd4,cxd4,Nc6,Nc3,O-O,Be3,b6,a3,a5,Qd2,Ba6,Nb5,Na7,a4,Bb4,Qd1,Qd7,Nxa7,Bxd3,Qxd3,Rxa7,Rac1,Rc8,b3,Rac7,h3,Ne7,g4,Ng6,Qa6,Qd8,Qxb6,Ba3,Rxc7,Qxc7,Qxc7,Rxc7,Bd2,Rb7,Rb1,f6,Bxa5,Nf4,Kh2,fxe5,Nxe5,Bd6,Bc3,Ne2,Bd2,Nxd4,Bf4,Rb4,Bg3', 'Bxe5,Bxe5,Nf3+,Kg2,Nxe5', 'https://lichess.org/training/kT6O2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kT7LE', 'Blitz', 'namesake', 2198, 'NM determinedalways', 2159, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bc5,Be3,Bb6,f3,O-O,Qd2,d5,Nxc6,bxc6,e5,Nd7,f4,Qe7,O-O-O,f6,Bxb6,axb6', 'Nxd5,cxd5,Qxd5+,Kh8,Qxa8', 'https://lichess.org/training/kT7LE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KT8br', 'Rapid', 'Muschemer', 1841, 'cumberbetch', 1744, 'd4,c6,c4,d5,e3,Nf6,Nc3,Bg4,Be2,Bxe2,Ngxe2,e6,cxd5,cxd5,Bd2,Nc6,O-O,Be7,Qa4,O-O,Rac1,a6,a3,b5,Qc2,Rc8,Qb1,Na5,Qa2,Bd6,Nb1,Bb8', 'Rxc8,Qxc8,Bxa5', 'https://lichess.org/training/KT8br');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KT8Ls', 'Rapid', 'DanielBR_00', 1826, 'milad1478', 1826, 'e4,Na6,Bxa6,bxa6,Nf3,Bb7,d3,e6,O-O,Nf6,Nc3,Bb4,Bd2,Ba5,a3,Bb6,Qe2,O-O,Be3,d5,exd5,exd5,Bg5,Re8,Qd2,Qd6,Bf4,Qd7,h3,d4,Ne2,Bxf3,gxf3,Qxh3,Bg3,Nh5,Qg5,Nxg3,Nxg3,Re6,Rfe1,Rg6,Qf4,c5,Re7,Rf8,Rae1,h6,Re8,Rxe8', 'Rxe8+,Kh7,Qxf7', 'https://lichess.org/training/KT8Ls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KT9rE', 'Rapid', 'Bjorkbacka', 1909, 'Roxtar_1', 1854, 'e4,c5,Nc3,Nc6,Bb5,Nf6,Bxc6,dxc6,f4,e6,d3,Be7,Nf3,O-O,e5,Nd5,Ne2,b6,O-O,Bb7,Qe1,Qc7,Bd2,Rad8,Qg3,f6,Nh4,fxe5,fxe5,Kh8,Bg5,Ba6,Bxe7,Qxe7,Qh3,Kg8,Qg4,Rxf1+,Rxf1,Ne3,Qa4,Nxf1,Qxa6,Qxh4,Qxa7,Ne3,Ng3,Qb4,h4,Qxh4,Qxb6,Qxg3,Qxd8+,Kf7,Qd7+,Kf8,Qd8+,Kf7,Qd7+,Kg6,Qe8+,Kf5,Qh5+,Kf4,Qf7+,Kxe5', 'Qc7+,Kf6,Qxg3', 'https://lichess.org/training/KT9rE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KTc1T', 'Rapid', 'IVANIV', 1717, 'kelo', 1691, 'e4,Nf6,e5,Nd5,c4,Nb6,Nf3,d6,d4,Bg4,Be2,e6,O-O,Be7,Nc3,Nc6,Nb5,a6,Nc3,O-O,Ne4,d5,cxd5,Nxd5,h3,Bh5,g4,Bg6,Bd3,Ncb4,Bb1,c5,a3,Nc6,dxc5,Bxe4,Bxe4,Bxc5,Bg5,Be7,h4,h6,Bxe7,Qxe7,Qc2,Rac8,g5,Nxe5,Qe2,Nxf3+,Qxf3,hxg5,Qh5,f5,Bxd5,exd5,hxg5,g6,Qxg6+,Qg7,Qe6+,Qf7,Qh6,Rc6,Qh4,Rg6,f4,Re8,Rac1,Kg7,Rf2,Rh8,Qg3,Qe6,Rc7+,Kg8,Rf1', 'Qb6+,Qf2,Qxc7', 'https://lichess.org/training/KTc1T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ktc2d', 'Rapid', 'Pawnbeast', 2174, 'Bucephalus23', 2231, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Nf6,f3,d5,Bb5,Bd7,exd5,Nxd5,Bxc6,Nxe3,Bxd7+,Qxd7,Qd3,Nxg2+,Kf2,Nf4,Qe4,Bc5,Rd1,Qc7,Nc3,a6,Kf1,O-O,Rd2,Rad8,Rad1,e5,Nb3,Ba7,Rxd8,Rxd8,Rxd8+,Qxd8,Qxe5,Ne6,Qd5,Qb6,Qd2,Qg1+,Ke2,Qxh2+,Kd3,Qd6+,Ke2,Nf4+,Kd1,Qxd2+,Kxd2,h5,Ne4,h4,Ke1,f6,Na5,h3,Nxb7,h2,Ng3,Bb8,Nh1,g5,c4,Nh5,Kf2,Ng3,Kg2,Nxh1,Kxh1,Kf7,b4,Ke6', 'Nc5+,Kf5,Nxa6', 'https://lichess.org/training/ktc2d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KTda4', 'Rapid', 'kasparilho', 2199, 'Amerdar', 2206, 'd4,c5,c3,cxd4,cxd4,d5,Bf4,Nc6,e3,g6,Nc3,Bg7,Nf3,Bg4,Be2,Nf6,O-O,O-O,Qb3,Na5,Qb4,Rc8,Rfe1,Re8,Bb5,Nc6,Bxc6,bxc6,Ne5,Bd7,Qc5,Qb6,Na4,Qxc5,Nxc5,Red8,f3,Nh5,Nexd7,Nxf4,exf4,Bxd4+,Kh1,e6,Rac1,Rc7,Ne5,Bxb2,Rc2,Bd4,Ned3,Rb8,g3,Rb5,Nb3,Bf6,Nbc5,Bd4,Ree2,Kf8,Kg2,Ke7,h4,Kd6,Nb3,c5,Nxd4,cxd4,Rxc7,Kxc7,Rc2+,Kd6,Kf2,f6,Ke2,e5,fxe5+,fxe5,g4,e4,fxe4,dxe4,Nf4,d3+,Nxd3,exd3+,Kxd3,Rb4,Rc4', 'Rxc4,Kxc4,Ke5', 'https://lichess.org/training/KTda4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kTdpq', 'Rapid', 'Roggy1991', 2126, 'chessinsidecom', 2139, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Ne7,Bg5,f6,Bh4,Bg4,O-O,Nbc6,h3,Bxf3,Qxf3,Nxd4,Qg4,Be5,f4,f5,Qd1,Bd6,c3,Ndc6,Bxf5,Bc5+,Kh1,Qd6,Bxe7,Nxe7,Re1,g6,Bg4,h5,Qa4+,b5,Qxb5+,c6,Qb7,O-O,b4,hxg4,bxc5,Qxf4,Na3,Nf5,Qxc6,Ng3+,Kg1,Qf2+,Kh2,Nf1+,Kh1,Ng3+,Kh2,Nf1+,Rxf1', 'g3+,Kh1,Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/kTdpq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ktecS', 'Rapid', 'belanchuk', 1836, 'BENITIER', 1645, 'd4,d5,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,c6,Nf3,Nf6,Bg5,h6,Bh4,Nbd7,e3,Qc7,c5,b6,Bg3,Qd8,cxb6,axb6,c4,Ne4,Bh4,Qc7,cxd5,cxd5,Bd3,Qc3+,Ke2,Qb2+,Qc2,Qxc2+,Bxc2,O-O,Rhc1,Ba6+,Ke1,Rfc8,Nd2,Nd6,Be7,Nf5,Bb4,Bc4,Nxc4,Rxc4,Bd3,Rxc1+,Rxc1,Nf6,Bxf5,exf5,Rc6,Rb8,h3,Ne4,Ke2,Kh7,Kf3,Rb7,Ke2,h5,f3,Nf6,f4,Kh6,Bd6,Kh7,Bc7,b5,Ba5,Ra7,Bb4,Rb7,Kf3,Kh6,Bc5,g5,fxg5+,Kxg5,Rb6,Rd7,Rxb5,Ne4,Bb4,h4,Rb8,Nf6,Bc5,Nh5,a4,f4,exf4+,Nxf4,a5,Ne6,Bb6,Nf4,Rg8+,Kf5,Rg4,Ng6,Ke3,Re7+,Kd2,Re8,g3,Rc8,gxh4,Rc4,h5,Nf4,h6,Rxd4+,Ke3,Re4+,Kf3,Ra4,h7,Ra3+,Kf2,Ng6,Rxg6,Ra2+,Kg3,Ra3+,Kh4,fxg6,h8=Q', 'g5+,Kh5,Rxh3#', 'https://lichess.org/training/ktecS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ktejn', 'Rapid', 'dezzan', 1731, 'monty9', 1751, 'e4,g5,Nc3,e6,d4,d5,e5,Nc6,Nh3,h6,Bb5,Bd7,Bxc6,Bxc6,O-O,Qd7,Qh5,O-O-O,Nxg5,Bg7,Nxf7,Qe8,Qg6,Ne7,Qxg7,Rg8,Qf6,Rg6,Qf3,Nf5,Nxd8,Qxd8,Qd3,Qg8,Nb5,Rxg2+,Kh1,Rg4,Nxa7+,Kd7,Nxc6,bxc6,Be3,Nh4,Rg1,h5,Rxg4,Qxg4,Rg1', 'Qf3+,Rg2,Qxg2#', 'https://lichess.org/training/ktejn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KtEWB', 'Rapid', 'Erikchess', 1872, 'CvekJ', 1839, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Nc3,Bg4,Bf4,Bd6,Bxd6,Qxd6,Be2,O-O,Nb5,Qe7,O-O,c6,Nc3,Nbd7,h3,Bh5,Re1,Rfe8,Ne5,Bxe2,Rxe2,Qd6,Qe1,Nxe5', 'dxe5,Qd8,exf6', 'https://lichess.org/training/KtEWB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KTgmS', 'Rapid', 'marat1205', 1627, 'gratin-dauphinois', 1809, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,Qb3,Qc7,Bf4,Qxf4,Qxb7,Nfd7,Qxa8,Qc7,cxd5', 'Nb6,Qxc6+,Nxc6', 'https://lichess.org/training/KTgmS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KtGpO', 'Blitz', 'FM nfds', 2561, 'FM VinzentSpitzl', 2481, 'Nf3,d5,a3,Nf6,b4,g6,Bb2,Bg7,e3,O-O,Be2,a5,O-O,axb4,axb4,Rxa1,Bxa1,Bf5,b5,Nbd7,Nd4,Ne4,d3,Nd6,c4,dxc4,dxc4,Nc5,Nc3,Nde4,Nxf5,Nxc3,Bxc3,gxf5,Bxg7,Qxd1,Rxd1,Kxg7,Rd5,b6,Rxf5,Rd8,Rd5,Rxd5,cxd5,Kf6,f4,Ne4,Bd3,Nc3,e4,e5,g3,Na4,Kf2,Nc5,Bc2,Nd7,Ke3,Ke7,Bd1,Kd6,Bh5,f6,Be8,Nc5,f5,Nb3,g4,Nd4,h4,h6,Kf2,Ke7,Bc6,Kf7,Kg3,Kg7,Be8,Kf8,Bd7,Kf7,g5,fxg5,Kg4,Kf6,hxg5+,hxg5,Be8,Nb3,Kf3,Nc5,Bc6,g4+,Ke3,g3,d6,cxd6,Kf3,Kg5,Kxg3,Nd3,Bd5,Nc5,Bc6,Kf6,Kf3,Nb3,Kg4,Nd4,Kh5,Ne2,Kh6,Nf4,Kh7,Nd3,Kg8,Ke7', 'Kg7,Nf4,f6+', 'https://lichess.org/training/KtGpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kti9F', 'Blitz', 'BMJCGodoy', 1875, 'eme2010', 1820, 'e4,e5,Bc4,Nc6,c3,Nf6,f3,Bc5,d3,d6,Bg5,h6,Bh4,g5,Bg3,Be6,Bxe6,fxe6,h4,Qe7,hxg5,Nd7,Rxh6,O-O,f4,exf4,Qh5,Qg7,Rg6,fxg3,Rxg7+,Kxg7,Qh6+,Kf7,Qh5+,Ke7,g6,Bxg1,Nd2,Bf2+,Kd1,Rh8,Qg5+,Nf6,Kc2,Rag8,d4,Rh5,Qf4,Rxg6,Nf3,Rg4,Qd2,Nxe4,Qd3,Nf6,Rd1,Nd5,Kb3,Ne3,Rd2,Rb5+,Ka4,Ra5+,Kb3,a6,a3,Rb5+,Ka2,d5,Rxf2,Nc4,Rc2,Kd6,Qe2,Re4,Qd2,Ne3,Rc1', 'Nc4,Qc2,Rxb2+,Qxb2,Nxb2', 'https://lichess.org/training/Kti9F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KTIDK', 'Blitz', 'CM MisterYesNo', 2286, 'apple_rom', 2337, 'd4,d6,Bg5,h6,Bh4,g5,Bg3,Bg7,e3,Nc6,h4,g4,Bd3,e5,dxe5,Nxe5,Nc3,Ne7,Nge2,N7c6,Nf4,h5,Qd2,Nxd3+,Qxd3,Ne5,Qd2,a6,O-O,Bf5,e4,Be6,Nxe6,fxe6,Ne2,Bf6,Nf4,Qe7,Rad1,O-O-O,b3,Rde8,c4,Bxh4,c5,Bxg3,fxg3,dxc5,Qc3,Nc6', 'Ng6,Qh7,Nxh8', 'https://lichess.org/training/KTIDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KtJvA', 'Rapid', 'adomas26', 1920, 'bbpriz65', 2058, 'd4,d5,c4,Nc6,cxd5,Qxd5,Nf3,Bg4,Nc3,Qd8,d5,Nb4,Qa4+,Qd7,Qxb4,O-O-O,Ne5,Qf5,Nxg4,e6,Qe4,Qh5,dxe6,f5,Qe5,Qxg4,Nb5,Bd6,Nxd6+,Rxd6,Bf4,Ne7,h3,Qg6,Qc5,b6,Qc4,Qxe6,Qa6+,Kb8,Bxd6,Qxd6,Rd1', 'Qb4+,Rd2,Rd8,Qd3,Rxd3', 'https://lichess.org/training/KtJvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kTkw2', 'Rapid', 'SadPeanut', 1834, 'Ura_58', 1837, 'e4,d6,d4,c6,c4,h6,Nc3,Nf6,Nf3,Bg4,h3,Bh5,e5,dxe5,dxe5,Qxd1+,Nxd1,Bxf3,gxf3,Nfd7,Nc3,Nxe5,Be2,e6,Be3,Bb4,Bd4,Nbd7,f4,c5', 'Bxe5,Nxe5,fxe5', 'https://lichess.org/training/kTkw2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kTL1w', 'Rapid', 'rosstheboss', 1660, 'grimcat', 1619, 'e4,e5,Bc4,Nc6,d3,Bc5,Nf3,f6,Nc3,d6,h3,Nge7,O-O,f5,Ng5,Qd7,Be6,Qxe6,Nxe6,Bxe6,exf5,Bxf5,Bg5,O-O-O,Bxe7,Nxe7,Qf3,Be6,a3,h5,Ne4,Bb6,b4,Bd7,Qf7,Nf5,c4,Rdf8,Qg6,Rh6,Qg5,Bd4,Rab1,Be8,c5,Rg6,Qxh5', 'Rxg2+,Kxg2,Bxh5', 'https://lichess.org/training/kTL1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KtlwD', 'Classical', 'Training87', 1730, 'kitty345', 1603, 'd4,d5,c4,e6,Nf3,c6,Nc3,a6,cxd5,exd5,Bf4,Bd6,Bxd6,Qxd6,e3,h6,Bd3,Bg4,h3,Bh5,O-O,Qf6,g4,Bg6,Bxg6,Qxg6,Ne5,Qe6,f4,f5,Qb3,b5,Qb4,fxg4,f5,Qe7,Qxe7+,Kxe7,hxg4,Nf6,Rae1,Rh7,e4,Kd6,exd5,cxd5,Nf7+,Kd7,Re5,Nc6,Nxd5,Nxe5,dxe5,Nxd5,Rd1,Kc6,Rc1+,Kb6,e6,Ne3,e7,Nxg4,Nd8,Nf6', 'Rc6+,Ka7,Rxf6,gxf6,e8=Q', 'https://lichess.org/training/KtlwD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KtmQj', 'Classical', 'Zr70', 1781, 'FR26', 1707, 'e4,b6,d4,Bb7,Nc3,e6,Bd3,Nf6,e5,Nd5,Nxd5,Bxd5,Nf3,Nc6,Qe2,Nb4,Be4,Bxe4,Qxe4,h6,O-O,Be7,c3,Nc6,d5,exd5,Qxd5,O-O,Nd4,Nxd4,Qxd4,Bg5,Qg4,Bxc1,Raxc1,c5,Rcd1,f5,exf6,Qxf6,Rxd7,a5,Rb7,Rae8,Qg3,Re2,b4,Rxa2,bxc5,bxc5,Rc7,Ra3,Rxc5,a4,Qe5', 'Qxf2+,Rxf2,Ra1+,Qe1,Rxe1+,Rf1,Rfxf1#', 'https://lichess.org/training/KtmQj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KtmyS', 'Rapid', 'BlueKnight22', 1728, 'dillinger6', 1696, 'e4,e5,Nf3,Nc6,c3,b6,d4,exd4,cxd4,Bb7,Nc3,Bb4,a3,Bxc3+,bxc3,Nf6,e5,Nd5,Qb3,Na5,Qc2,h6,Bd3,Ne7,O-O,Bxf3,gxf3,f6,exf6,gxf6,Re1,d5,Kh1,Qd6,Rg1,Nc4,Qe2,O-O-O,Bxc4,dxc4,Qxc4,Kb7,Be3,Nd5,a4,a5,Qd3,h5,Rg6,Rdg8,Rag1,Rxg6,Rxg6,h4,c4,Nb4,Qf5,Na2,Rxf6,Qb4,Kg2,Qe1,Rf8', 'h3+,Kg3,Qg1+', 'https://lichess.org/training/KtmyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kTn77', 'Rapid', 'PaTRiOtUa', 1659, 'Muhdi-hps', 1631, 'Nf3,Nf6,Nc3,d5,d4,Bg4,h3,Bxf3,exf3,e6,Bg5,h6,Bxf6,Qxf6,Nb5,Qd8,f4,a6,Nc3,c5,dxc5,Bxc5,f5,exf5,Qe2+,Be7,Qe5,O-O,Qxf5,Bb4,Qf3,Re8+,Be2,Bxc3+,bxc3,Nc6,O-O,Re6,c4,d4,Rad1,Qe7,Bd3,Rd8,a3,Qxa3', 'Bh7+,Kxh7,Qxa3', 'https://lichess.org/training/kTn77');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ktNF3', 'Blitz', 'Yakiri', 1562, 'z6_6', 1582, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Nf6,Nf3,Qa5,d4,c6,O-O,Qc7,Re1,e6,Ne5,Bd6,f4,Nd5,Ne4,Bxe5,fxe5,O-O,Bd2,Ne7,Bd3,Nf5,c3,Rd8,Qh5,Qe7,Nd6,g6,Qf3,Nxd6,exd6,Rxd6,Bf4,Nd7,Bxd6,Qxd6,Rad1,c5,h4,cxd4,h5,Qc6,Qg3,dxc3,bxc3,Qxc3,hxg6,hxg6,Rc1,Qxd3,Rc3,Qd4+,Kh1,Qh8+,Kg1,Qd4+,Kh1,Qh8+,Kg1,Nf6,Qf4,Kg7,Rc7,b6,Rf1,Qd8,Rc4,Nd5,Qd4+,Kf8', 'Qh8+,Ke7,Rxf7+,Kxf7,Qxd8', 'https://lichess.org/training/ktNF3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ktnJX', 'Bullet', 'jone4s', 1783, 'NM TheChessGym', 1953, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qa5,d4,Bg4,Be3,O-O-O,Bb5,Nf6,Bxc6,bxc6,Qd2,Bxf3,gxf3,e6,O-O-O,Bb4,Kb1,Nd5,Qd3,Nxc3+,bxc3,Bxc3,Qc4,Rd5,a4,Kd7,Rd3,Rb8+,Kc1,Bb2+,Kd1,Rb4,Qa2,Rxa4,Qxb2,Ra1+,Bc1,Rb5,Qc3,Qa2,Kd2,Rbb1,d5,exd5,Qxg7,Qa5+,Ke3,Rxc1,Qxf7+,Kc8', 'Qe8+,Kb7,Rb3+,Qb6+,Rxb6+,axb6,Rxc1', 'https://lichess.org/training/ktnJX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kTOb2', 'Rapid', 'MOSMOHD', 1768, 'Rndrps', 1956, 'c4,c6,Nc3,d5,cxd5,cxd5,d4,Nf6,Nf3,e6,a3,a6,b4,b5,Bg5,Nbd7,e3,Bb7,Rc1,Be7,Bd3,O-O,Qc2,Rc8,Qb1,h6,Bh4,Ng4,Bxe7,Qxe7,O-O,f5,h3,Ngf6,Ne5,Ne4,Nxe4,dxe4,Ng6,Qf6,Nxf8,Nxf8,Rxc8,Bxc8,Be2,Ng6,g3,e5,d5,f4,Qxe4,Bxh3,Rc1,fxg3,fxg3,Qg5,Qf3,e4,Qf2,Qxd5,Rc7,Ne5,Kh2,Bg4,Kg2,Bxe2', 'Rc8+,Kh7,Qf5+,g6,Rc7+', 'https://lichess.org/training/kTOb2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kToQI', 'Rapid', 'hamir', 1770, 'vicente_gar_bra', 1857, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be2,O-O,O-O,c5,Nf3,Nc6,h3,a6,a4,h6,Bf4,b6,Qd2,Qc7,Rad1,Rd8,Bxh6,gxh6,Qxh6,Nh7,Nd5,Qb7,Rd2,Be6,Rfd1,Bf8,Qf4,Bg7,c3,Rf8,Ng5,Nxg5,Qxg5,f6,Qg3,Ne5,Nf4,Bb3,Ra1,Bc4,Rxd6,Bxe2,Nxe2,Qxe4,Nf4,b5,Nh5,Qg6,Qxg6,Nxg6,Rd7,Rf7,Rad1,Ne5,Rxf7,Nxf7,axb5,axb5,Rd2,c4,g3,Ne5,Kg2,Nd3,Re2,Rf8,Nf4,Nxf4+,gxf4,f5,Re6,Rb8,Rg6,Kf7,Rc6,b4,Rxc4,bxc3,bxc3,Rb3,Rc7+,Kg6,c4,Rc3,Rc6+,Kh5,Rc5,Kh4,Rxf5,Rxc4,Rg5,Bh6,Rg4+,Kh5,Kg3,Rc3+,f3,Rc4', 'Rh4+,Kg6,f5+,Kxf5,Rxc4', 'https://lichess.org/training/kToQI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ktQg1', 'Blitz', 'Wood-pecker', 2141, 'Flodamedesevigne', 2158, 'e4,c5,Nf3,Nf6,e5,Nd5,c4,Nc7,d4,e6,d5,d6,dxe6,Bxe6,Nc3,a6,Bf4,d5,cxd5,Nxd5,Nxd5,Qxd5,Qa4+,Qc6,Qc2,Be7,Be2,O-O,O-O,g6,Ng5,Bf5,Qc1,Qa4,Bf3,Nc6,Re1,h6,Ne4,Kh7,Nf6+,Bxf6,exf6,Nd4,Bxb7,Rae8,Qxc5,Nc2,Rxe8,Rxe8,Qc7,Nxa1', 'Qxf7+,Kh8,Qg7#', 'https://lichess.org/training/ktQg1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kTQGw', 'Rapid', 'ItouKaiji', 1838, 'Caylak58', 1838, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Nxe4,Bd3,d5,exd6,Nxd6,O-O,Be7,h3,O-O,Nc3,Bf5,Nd5,Be4,Nxe7+,Qxe7,Bxe4,Qxe4,Re1,Qg6,Nh4,Qf6,Qg4,Ne5,Qd4,Nf3+', 'Nxf3,Qxd4,Nxd4', 'https://lichess.org/training/kTQGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ktqkI', 'Rapid', 'ChessArakel', 1833, 'Turoverd', 1825, 'e4,g6,d4,Bg7,Nf3,d6,Bc4,Nf6,Nc3,O-O,O-O,Nxe4,Nxe4,d5,Bxd5,Qxd5,Nc3,Qd6,Re1,c5,dxc5,Qxc5,Be3,Qc7,Nd5,Qd6,Bf4,Qc5,Nxe7+,Kh8,c3,Nc6,Nxc6,Qxc6,Ne5,Bxe5,Bxe5+,Kg8,Bd4,b6,Qd2,Bb7,f3,Rad8,Qh6,Rxd4,cxd4,Rd8,Rac1,Qa4,Qe3,h5,a3,h4,Rc7,Bd5,Qe7,Qxd4+,Kh1,h3,Qxd8+,Kg7,Qe7,hxg2+,Kxg2,Qg4+,Kf2,Qxf3+,Kg1,Qg4+,Kf2', 'Qf3+,Kg1,Qg2#', 'https://lichess.org/training/ktqkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KtQKN', 'Rapid', 'Nantenaina', 1685, 'Sandro84', 1665, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Nc3,d6,Nd5,Bg4,Qe2,Nd4,Qd3,b5,Bb3,c5,Nxf6+,Qxf6,Bd5,c4,Qc3,Rc8,Nxd4,exd4,Qa5,Rc5,Qxa7,Rxd5,exd5', 'Qe5+,Kf1,Qe2+,Kg1,Qd1#', 'https://lichess.org/training/KtQKN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KtrhT', 'Rapid', 'alifrat', 1680, 'ARChessAce', 1653, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,e6,O-O,Be7,Nc3,O-O,Bg5,h6,Bh4,d5,exd5,exd5,Bxf6,Bxf6,Bxd5', 'Bxc3,Bxb7,Bxb7', 'https://lichess.org/training/KtrhT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kTTQx', 'Rapid', 'Angelinsky_ML', 1699, 'Hashim95', 1688, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Bc4,Nc6,Nxc6,bxc6,Bb3,Ba6,Bf4,Nf6,Qd2,O-O,O-O-O,Qc8,h3,Bb7,Rhg1,a5,g4,c5,a3,Nxe4,Nxe4,Bxe4,Rdf1,c4,Ba2,Qc5,f3,Bc6,c3,Rab8,Be3,Qb5,f4,Be4,f5,Bd3,Rf2,Rb7,fxg6,hxg6,h4,Rfb8,Rh1,Be4,Rhh2,Be5,Rh3,d5,h5,Kg7,hxg6,Bxg6,Bh6+,Kg8,Bb1,Qb6,Bxg6,fxg6,Re2,Bg7,g5,Qg1+,Re1,Rxb2,Rxg1', 'Rb1+,Kc2,R8b2#', 'https://lichess.org/training/kTTQx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KTuiq', 'Rapid', 'ddd60', 1653, 'thomarr', 1630, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Ng5,O-O,Qf3,h6,h4,d5,exd5,Nd4,Qd1,Bg4,Nf3,Nh5,Nbd2,Nf4,c3,Nxg2+,Kf1,Nxf3,Nxf3,Bxf3,Qxf3,Nxh4,Qh3,Qf6', 'Qxh4,Qxh4,Rxh4', 'https://lichess.org/training/KTuiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kTuw0', 'Rapid', 'sergio_78', 1671, 'tunill', 1741, 'd4,Nf6,c4,e6,Nf3,b6,e3,Bb7,Bd3,Bb4+,Nbd2,d6,O-O,O-O,a3,Bxd2,Bxd2,Nbd7,Re1,c5,e4,cxd4,Nxd4,Nc5,Bc3,Ncxe4,Bxe4,Nxe4,Rc1,Qg5,Nf3,Qg6,Nh4,Qh6,Nf3,Ng5,Nxg5,Qxg5,f3,Rac8,Bd2,Qc5+,Be3,Qh5,Qxd6,Rfd8,Qg3,Qa5,Bg5,Rd7,Bf6,g6,Re5,Qd2,Rce1,Rxc4,Qh3,Rc1,Qg3,Rxe1+,Rxe1,Ba6', 'Qb8+,Rd8,Qxd8+,Qxd8,Bxd8', 'https://lichess.org/training/kTuw0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KtxyP', 'Classical', 'Immortal99', 2076, 'NIK-KAR', 2115, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,a6,O-O,Nge7,Bg5,h6,Be3,Ng6,Qe2,Be7,Na4,b5', 'Bb6,bxa4,Bxd8', 'https://lichess.org/training/KtxyP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ktYyf', 'Rapid', 'CJR98', 1855, 'lolochess64', 1913, 'e4,c5,Nc3,e6,g3,a6,Bg2,Nc6,d3,Qc7,Nge2,Nf6,O-O,Be7,Bd2,d6,a3,Bd7,a4,O-O,b3,Rab8,f4,e5,f5,h6,Qc1,Kh7,Bh3,b5,g4,b4,Nd1,Nd4,Nxd4,exd4,g5,hxg5,Bxg5,Ng8,Bxe7,Nxe7,Qf4,Rh8,Rf3,Kg8,Rg3,Rh7,Nf2,f6,Ng4,Kf7,Kh1,Rbh8,Qf3,g5,Rag1,d5,R1g2,dxe4,dxe4,Bc6,Qd3,Qf4,Qc4+,Kg7,Qxc5,Qc1+,Rg1,Bxe4+,Bg2,Rxh2+,Nxh2,Bxg2+,Kxg2,Qd2+,Kf3,Qe3+,Kg2', 'Qe2+,Kh1,Rxh2#', 'https://lichess.org/training/ktYyf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KU05K', 'Classical', 'Roako', 1653, 'explosionn', 1675, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,h6,Bh4,d6,Nc3,Bg4,h3,Bxf3,Qxf3,Nd4,Qg3,O-O,Nd5,g5,Bxg5,Nxc2+,Ke2,Nd4+,Kf1,hxg5', 'Qxg5+,Kh7,Nxf6+,Qxf6,Qxf6', 'https://lichess.org/training/KU05K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KU1Sh', 'Rapid', 'Lenz2002', 2167, 'basear77', 1960, 'e4,e5,Nf3,d6,Bc4,Bg4,d3,Be7,O-O,h6,Nc3,Nf6,Nd5,Nxd5,Bxd5,c6,Bb3,Nd7,Be3,Nf6,c3,O-O,Bc2,Be6,Re1,Ng4,d4,Nxe3,Rxe3,Bg4,h3,Bh5,dxe5,dxe5,Qxd8,Raxd8,Nxe5,Rd2,Bb3,Bc5,g4,Bxe3,fxe3,Re8,Nc4,Rdd8,gxh5,Rxe4,Rf1,Rd7,Rf5,b5,Ne5,Re7,Bxf7+,Kh8,Ng6+,Kh7,Bg8+,Kxg8', 'Rf8+,Kh7,Rh8#', 'https://lichess.org/training/KU1Sh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ku2oq', 'Rapid', 'sal1hbaba', 1772, 'Old-Boxer', 1795, 'd4,Nf6,c4,e6,Nc3,d5,e3,c6,Nf3,Nbd7,Bd2,dxc4,Bxc4,b5,Bb3,Bd6,O-O,Bb7,Qc2,Rc8,Ne4,Nxe4,Qxe4,Nf6,Qd3,a6,Rac1,c5,dxc5', 'Bxh2+,Nxh2,Qxd3', 'https://lichess.org/training/Ku2oq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ku867', 'Blitz', 'AtheistAnimal', 1976, 'underlined', 1996, 'f4,Nf6,Nf3,g6,d3,Bg7,e4,O-O,Nc3,c6,e5,Nd5,Nxd5,cxd5,d4,Nc6,c3,f6,Bd3,d6,exd6,Qxd6,O-O,Bd7,Re1,e5,fxe5,fxe5,dxe5,Nxe5,Nxe5,Bxe5,h3,Bg3,Rf1,Rxf1+,Qxf1,Rf8,Qd1,Bf2+,Kh1,Qg3,Bf1,d4,Bh6,Bc6,Qb3+,Kh8,cxd4,Rf3,Qe6', 'Qxh3+,Qxh3,Rxh3#', 'https://lichess.org/training/Ku867');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KU8TI', 'Classical', 'kovimi', 1772, 'tinchilandia', 1629, 'd4,d6,Bf4,Bf5,e3,Nc6,Bb5,Qd7,Nf3,h6,h3,Nf6,Nbd2,g5,Bh2,O-O-O,Nb3,a6,Bd3,Bxd3,cxd3,Bg7,Rc1,Nd5,a3,e5,Rc2,exd4,Nfxd4,Nxd4,exd4,Qa4,Na1,Rhe8+,Kf1,Qxd4,Nb3,Qa4,Nd2,Re6', 'Rxc7+,Kxc7,Qxa4', 'https://lichess.org/training/KU8TI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kU8VY', 'Rapid', 'Mathias01', 1787, 'SofiaLuna', 1638, 'd4,Nf6,g3,g6,Bg2,Bg7,e3,O-O,Ne2,d6,O-O,Re8,b3,Nbd7,Bb2,Rb8,Nd2,b6,Rb1,Bb7,f3,Nd5,e4,Ne3,Qc1,Nxf1,Qxf1,e5,d5,c6,c4,cxd5,cxd5,Rc8,Nc3,f5,Nc4,Rf8,Nxd6,Rc7,Nxb7,Rxb7,Qc4,Rc7,Qa4,a5,Nb5,Rc2,b4,Qc8,Nd6,Qc7,Nb5,Qc8,Nc3,Rxc3,Bxc3,Qxc3,Qxd7,Qd4+,Kh1,axb4,Qb5,Rc8,h3,Rc5,Qxb4', 'Rc1+,Rxc1,Qxb4', 'https://lichess.org/training/kU8VY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KUAd3', 'Blitz', 'tmes', 2104, 'tomahawk00', 2164, 'c4,Nf6,Nc3,g6,e4,Bg7,e5,Ng8,d4,d6,exd6,cxd6,Nf3,Nf6,Bd3,O-O,h4,Bg4,Bg5,Nc6,Qd2,Bxf3,gxf3,Nxd4,O-O-O,Nxf3,Qf4,Nxg5,hxg5,Nd7,Rxh7,Kxh7,Rh1+,Kg8,Qh4,Re8,Qh7+,Kf8,Bxg6,fxg6,Qxg6,e5,Nd5,Rc8,b3,Nb6,Nf6,Nd7,Rh7,Qe7', 'Rh8+,Bxh8,Qg8#', 'https://lichess.org/training/KUAd3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuAKW', 'Blitz', 'FM GreenRanger87', 2483, 'inflado', 2408, 'e4,c5,g3,d5,exd5,Qxd5,Nf3,Bg4,Bg2,Qe6+,Kf1,Nc6,h3,Bh5,d3,Nf6,Bd2,Qd7,Na3,e6,Nc4,Be7,g4,Bg6,Nfe5,Nxe5,Nxe5,Qb5,h4,Qxb2,Nc4,Qd4,h5,Bxd3+', 'cxd3,Qxd3+,Qe2,Qxe2+,Kxe2', 'https://lichess.org/training/KuAKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KUAND', 'Blitz', 'ArchibaldCerveza29', 2244, 'FM BlackCrowes', 2371, 'e4,Nf6,e5,Nd5,Nc3,Nxc3,bxc3,d6,exd6,exd6,d4,Be7,Nf3,O-O,Bd3,Bg4,O-O,Nd7,Rb1,b6,h3,Bh5,Be4,Rb8,Re1,c5,Bf4,Nf6,Bf5,Nd5,Bg3,Nxc3,Bxh7+,Kh8,Qd3,Nxb1,Rxb1,Bxf3,gxf3,g6,Bxg6,fxg6,Qxg6,Rf6,Qh5+,Kg7,Re1,Rg6,Kh2,Bf6,Re6,cxd4,Rxd6,Qe8,Qf5,Rc8,Rd7+,Kg8', 'Qd5+,Kf8,Bd6+', 'https://lichess.org/training/KUAND');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KUaRf', 'Blitz', 'tytus990c', 1910, 'peletis', 1786, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c3,c5,Bb5+,Nc6,O-O,a6,Bxc6+,bxc6,a3,cxd4,cxd4,c5,Nc3,cxd4,Nxd4,Ne7,Bg5,h6,Bh4,g5,Nxf5,Nxf5,Bg3,Bg7,Rc1,O-O,Na4,Nxg3,fxg3,Bxe5,Qh5,Bg7,Nc5,Qb6,b4,Rac8,Kh1,a5,h4,axb4,hxg5,hxg5,axb4,Qxb4,Nd3,Qd4,Rxc8,Rxc8,Qxf7+,Kh8,Qxe6,Rf8,Rxf8+,Bxf8,Ne5,Qd1+,Kh2,Qh5+,Kg1', 'Bc5+,Kf1,Qd1#', 'https://lichess.org/training/KUaRf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KucIs', 'Classical', 'DJ__Chess', 2301, 'Staffan67', 2161, 'd4,d5,Bf4,c6,e3,Nf6,Nf3,Nh5,Bg5,h6,Bh4,Nf6,Nbd2,Bf5,c4,e6,Qb3,Qb6,c5,Qxb3,axb3,Nbd7,b4,Be7,b5,O-O,Bg3,Nh5,Bc7,Rfc8,Ba5,b6,bxc6,Rxc6,Bb5,Rc7,Bxd7,Rxd7,Bxb6,Rb7,b3,Bd3,Ne5,Bb5,f3,f6,Ng6,f5,Nxe7+,Rxe7,Kf2,Bc6,Ra2,axb6,Rxa8+,Bxa8,b4,bxc5,dxc5,Bc6,Ra1,Bb5,Nb3,e5,Ra5,Rb7,f4,exf4,Nd4,fxe3+,Kxe3,Re7+,Kd2,Bc4,c6,Nf6,b5,Ne4+,Kc2,Nd6,b6,Kf7,c7,Re8,Nxf5,Re2+,Kd1,Nxf5,c8=Q', 'Ne3+,Kc1,Rc2+,Kb1,Ba2+,Rxa2,Rxc8', 'https://lichess.org/training/KucIs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KUdgv', 'Rapid', 'Ersan3840', 1624, 'Glebob_korobok', 1627, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,a5,Bd3,Ba6,Bg5,h6,Be3,Bb4,O-O,Bxc3,bxc3,O-O,Re1,d5,e5,Nd7,Bf4,g5,Bg3,Re8,Qe2,Bxd3,Qxd3,Nc5,Qd4,Ne6,Qd2,Rb8,Rab1,Nc5,f3,h5,h3,h4', 'Rxb8,Qxb8,Qxg5+', 'https://lichess.org/training/KUdgv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuDQl', 'Classical', 'jackbond007', 1663, 'serdarmurat', 2000, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Be7,Nf3,d6,Be3,O-O,h3,Be6,Bd3,Qd7,a3,Rfe8,g4,h6,g5,h5,gxf6,Bxf6,Rg1,g6,e5,Bg7,Qd2,dxe5,Bh6,Rad8,Bxg7,Kxg7,Nh4,e4,Nxe4,Ne5,O-O-O,Nxd3+,cxd3,Qc6+,Kb1,Bxh3,Qf4,Rxd3,Rxd3,Rxe4,Nf5+', 'Bxf5,Qxf5,Re1+,Rxe1,gxf5', 'https://lichess.org/training/KuDQl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuF6h', 'Rapid', 'simbaJones', 1717, 'Nour_aboelmagd', 1666, 'e4,e5,f4,Nc6,Nf3,exf4,d4,Qf6,Nc3,Bb4,e5,Bxc3+,bxc3,Qf5,Bd3,Qg4,O-O,g5,h3,Qh5,Qe1,Nce7,g4,Qxh3,Nh2,d5,Rf3,Qh6,Qf1,Qh4', 'Rh3,Qxh3,Qxh3', 'https://lichess.org/training/KuF6h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuF7I', 'Rapid', 'TowerDefending', 1867, 'AnonymousPlayer21', 1881, 'Nf3,c5,c4,e6,g3,d5,cxd5,exd5,d4,Nf6,dxc5,Bxc5,Nc3,O-O,Bg2,Nc6,O-O,Bf5,Nh4,Be6,Bg5,h6,Bxf6,Qxf6,Nxd5,Qxb2,Rc1,Ba3,Rc2,Qe5,Nf3', 'Qxd5,Qxd5,Bxd5', 'https://lichess.org/training/KuF7I');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 21;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet22 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kufCy', 'Rapid', 'sven286', 1832, 'yianngia', 1745, 'd4,Nf6,Nc3,g6,Bf4,d6,e4,Bg7,Qd2,O-O,O-O-O,Nc6,Nf3,Bg4,Qe3,Bxf3,gxf3,e5,dxe5,Nxe5,Bxe5,Qe7,Bxf6,Bxf6,Nd5,Qe5,Nxf6+,Qxf6,f4,Rfe8,f3,c6,Qd2,Rad8,h4,h5,Bd3,b5,Rdg1,a6,f5,Kg7,fxg6,fxg6,Qg2,c5,e5,Rxe5,Qxg6+,Qxg6,Rxg6+,Kf7,Rhg1,Rf8,Rxd6,c4,Bg6+,Ke7,Rgd1,Rxf3,Rd7+,Kf6,R1d6+,Re6,Rxe6+,Kxe6,Ra7,Rf1+,Kd2,Kd5,Rxa6,Rf2+,Kc3,Kc5,b3', 'b4+,Kb2,c3+,Ka1,Rf1#', 'https://lichess.org/training/kufCy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KUfIi', 'Blitz', 'Dr_Odobayo', 1646, 'Edward-07', 1718, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,a5,Ne2,Nf6,c3,Nc6,d4,h6,O-O,Bd6,Ng3,Be6,Qf3,Ne4,Nxe4,dxe4,Qxe4,Qd7,Re1,O-O-O,Bxe6,fxe6,Qxe6,Qxe6,Rxe6,g5,Be3,g4,Rxh6,Rxh6,Bxh6,Rh8,Be3,Rxh2,Nd2,g3,f3,Ne7,Ne4,Nf5,Nxd6+,cxd6,Bf4', 'Nh4,Bxg3,Rxg2+,Kf1,Rxg3', 'https://lichess.org/training/KUfIi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kugaF', 'Rapid', 'Diggs124', 2037, 'sutrserpa', 1936, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Qf6,O-O,Nge7,d3,h6,Be3,Bb6,d4,exd4,cxd4,O-O,Nc3,d6,Re1,Bg4,Bxc6,Bxf3,Qxf3,Qxf3,gxf3,Nxc6,Rad1,f5,Nd5,f4,Nxf4,Nxd4,Bxd4,Rxf4,Kg2,Ba5,Re3,c5,Bc3,Bc7,Rd5,Raf8,b4,b6,bxc5,dxc5,Rd7,R8f7,Rd5,Kf8,e5,Ra4,e6,Re7,Rd7,g5,Rd2,Bf4,Rd8+,Re8,Bg7+,Ke7', 'Rd7#', 'https://lichess.org/training/kugaF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KUGQS', 'Rapid', 'yonaditya', 1693, 'graycloud', 1623, 'f4,d5,e3,Bf5,Nf3,e6,Be2,Nf6,d3,Bc5,O-O,O-O,Kh1,Ng4,d4,Bb6,a3,c5,c3,Nc6,Ne5,Ngxe5,fxe5,Be4,Bf3,Qh4,Bxe4,Qxe4,Nd2,Qh4,Nf3,Qe7,Rg1,f6,Qf1,fxe5,Qe2,exd4,cxd4,Bc7,Bd2,Qd6,g4,Rf7,Raf1,Raf8,dxc5,Qxc5,Rf2,Qd6,Rgg2,e5,b4,d4,b5,d3,Qd1,e4,bxc6,exf3,Rg3,Qxc6,Rh3,Qc2,Qe1,Qb3,Bb4,Rd8,Bd2,Qxa3,Qb1,Bb6,Qe1,Rdf8,Bb4,Qa4,Bxf8,Rxf8,Rhxf3,Rxf3,Rxf3,Qxg4,Qf1,h6', 'Rf8+,Kh7,Qxd3+,Qg6,Rh8+,Kxh8,Qxg6', 'https://lichess.org/training/KUGQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kUI2F', 'Rapid', 'slava55', 1847, 'marty108', 1757, 'e4,e5,Bc4,Nf6,d3,Nc6,c3,Bc5,h3,O-O,Nf3,Bb6,Bg5,h6,Bh4,d6,O-O,Na5,Nbd2,c6,b4,Nxc4,Nxc4,d5,Nxb6,axb6,Nxe5,Re8,d4,dxe4,Qb3,Be6,c4,b5,d5,cxd5,cxd5,Bxd5,Qg3,Qd6,Bxf6,Qxf6,Ng4,Qb6,a3,Ra4,Kh1,Kh8,Ne5,Qe6,Ng4,f5,Ne3,Rf8,Nxd5,Qxd5,Rfd1,Qe6,Qd6,Qxd6,Rxd6,Raa8,Rb6,f4,Rxb5,e3,fxe3,fxe3,Re1,Rxa3,Rxb7,Rb3,b5,Re8,b6,e2,Rc7,Rd3,b7', 'Rd1,Kh2,Rxe1,Rc8,Rh1+,Kxh1,e1=Q+', 'https://lichess.org/training/kUI2F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kuI4X', 'Rapid', 'Bed72', 1934, 'rullll1', 1917, 'e4,e6,e5,d5,Nf3,Nc6,d4,Nge7,Bb5,Nf5,Bxc6+,bxc6,O-O,c5,Nc3,cxd4,Nxd4,Nxd4,Qxd4,c5,Qf4,Be7,Bd2,O-O,Rad1,f6,Rfe1,fxe5,Qxe5,Qb6,Nxd5,exd5,Qxe7,c4,Bc3,Qxf2+,Kh1,Rf7,Qd8+,Rf8,Qxd5+,Kh8,Bxg7+,Kxg7,Re7+,Kh8,Qe5+,Qf6,Qxf6+,Rxf6', 'Rd8+,Rf8,Rxf8#', 'https://lichess.org/training/kuI4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KUifF', 'Classical', 'farzin0098', 1765, 'ilster', 1785, 'e3,e5,d3,Nc6,h3,Nf6,a3,d5,b3,Bd6,g3,Be6,Bb2,Qd7,Bg2,O-O,Nd2,a5,Ne2,b5,c3,b4,cxb4,axb4,a4,Bf5,d4,exd4,Nxd4,Nxd4,Bxd4,c5,Bb2,Rfe8,Nf3,Be4,O-O,Qe6,Ng5,Qf5,Nxe4,Nxe4,Qg4,Qxg4,hxg4,Re6,Bxe4,Rxe4,g5,Rg4,g6,Rxg6,Rad1,Rg5,Kg2,h5,f4,Rg4,Kf3,f5,Rh1,g6,Rxd5,Be7,Rd7,Bf8,Rhd1,h4,gxh4,Rxh4,Be5,Rh3+,Kg2,Rxe3,Rd8,Rxd8,Rxd8,Rxb3', 'Bd6,Kf7,Rxf8+,Ke6,Bxc5', 'https://lichess.org/training/KUifF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuIH4', 'Rapid', 'fiko42', 1742, 'sibenitez', 1692, 'e4,e5,Nf3,Nc6,c3,Nf6,Bd3,d6,Bc2,Bg4,h3,Be6,d4,exd4,cxd4,Bd7,a3,g6,Be3,Bg7,Nc3,O-O,O-O,Re8,Qe2,a6,b4,b5,Rad1,Ne7,e5,dxe5,Nxe5,Nfd5,Nxd7,Qxd7,Bb3,Nxe3,fxe3,Nf5,e4,Ng3,Bxf7+', 'Qxf7,Rxf7,Nxe2+', 'https://lichess.org/training/KuIH4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kUInd', 'Classical', 'dimaK0t', 1785, 'rudi-kusaman', 1841, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Qe2,d5,Nxe5,dxc4,Qxe4,Qe7,Nc3,Nc6,Nxc4,Qxe4+,Nxe4,Bf5,d3,Nd4,Ne3,Bxe4,dxe4,O-O-O,O-O,Bc5,c3,Ne6,b4,Bb6,Nd5,c6,Nxb6+,axb6,Be3,c5,a3,Rd3,Rac1,Rhd8,a4,g6,a5,bxa5,bxa5,Kb8,c4,Nd4,Bxd4,R8xd4,f3,Ra3,Ra1,Rxa1,Rxa1,Rxc4,Kf2,Ka7,Kg3,Rb4,Kf4,f6,g4,h6,Rd1,Rb5,Rd6,g5+,Kf5,c4+,Kg6,c3,Rd4,c2,Rc4,Rb2,Kxf6,Ka6,Rc5,b6,axb6,Kxb6,Rc8', 'Kb7,Rc5,Rb6+,Kg7,Rc6,Rxc2,Rxc2', 'https://lichess.org/training/kUInd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kUKlN', 'Rapid', 'Mynameislegion', 2194, 'mak7ym', 1888, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Be3,O-O,Qd2,Be6,O-O-O,a5,Kb1,c6,h4,b5,Bd3,d5,Ng5,h6,Nxe6,fxe6,Bxh6,gxh6,Qxh6,Rf6,Qh7+,Kf8,Bg6,Rxg6', 'Qxg6', 'https://lichess.org/training/kUKlN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kuLgE', 'Rapid', 'Madstrong', 1669, 'rodeo', 1751, 'e4,e5,Bc4,Nf6,Nc3,Nc6,d3,Na5,Bd5,Nxd5,Nxd5,c6,Nc3,b5,a3,d5,Nf3,d4,Na2,Bd6,Bd2,O-O,h3,c5,c3,Be6,cxd4,Nb3,d5,Nxa1,dxe6,fxe6,Qxa1,c4,Bb4,a5,Bxd6,Qxd6,dxc4,Qd3,Qd1', 'Qxe4+,Qe2,Qb1+', 'https://lichess.org/training/kuLgE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuLos', 'Rapid', 'Marnitz70', 1871, 'sandy42', 1896, 'Nf3,d5,d4,c6,e3,Nf6,c4,g6,b4,Bg7,c5,O-O,Bd3,b5,cxb6,axb6,O-O,Nbd7,a4,c5,b5,cxd4,Nxd4,Nc5,Bc2,Bd7,Nc3,e5,Nb3,Nxb3,Bxb3,Be6,Bc2,Qc7,Bd2,Rfc8,Rc1,d4,exd4,exd4,Be4,Nxe4,Nxe4,Qe5,Qf3,Rxa4,Bf4,Qd5', 'Rxc8+,Bxc8,Nf6+,Bxf6,Qxd5', 'https://lichess.org/training/KuLos');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kUMCv', 'Rapid', 'san_fernando', 1830, 'temuulenbayarsaihan', 1809, 'd4,d5,Nf3,Nc6,Bg5,Nf6,e3,e6,c3,Be7,Qc2,O-O,Nbd2,h6,Bf4,Bd6,Ne5,Nxe5,dxe5,Bxe5,Bxe5,c5,O-O-O,d4,Nc4,Qd5,Bd6,Ne4,Bxf8,Kxf8,exd4,cxd4,Rxd4,Qg5+,Kb1,Qg6,Rd8+,Ke7,Rd4,e5,Nxe5,Qf6,Qxe4,Bf5,Rd7+,Ke8,Re7+', 'Kxe7,Qxf5,Qxf5+', 'https://lichess.org/training/kUMCv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KunLo', 'Blitz', 'Neshamah', 1767, 'Beginner2', 1798, 'e4,d5,exd5,Qxd5,c4,Qd8,Nf3,c6,Be2,e6,O-O,Nf6,d4,Be7,Nc3,O-O,Bd3,b6,Qc2,Bb7,Bg5,Nbd7,Ne5,h6,Bh4,g5,Bg3,c5,d5,exd5,cxd5,Nxe5,Bxe5,Nxd5,Rad1,f6,Bg3,Nxc3,Qxc3,Qe8,h4,Qc6,f3,Rac8,h5,c4,Be4,Bc5+,Kh2,Qe8,Bxb7', 'Qxh5+,Bh4,Qxh4#', 'https://lichess.org/training/KunLo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kunOE', 'Rapid', 'Ochoa010', 1986, 'SandyFrost', 1956, 'b3,e5,Bb2,Nc6,c4,Nf6,e3,d5,cxd5,Qxd5,Nc3,Qd8,a3,Bf5,d3,Nd5,Nxd5,Qxd5,e4,Qa5+,b4,Nxb4,axb4,Qxb4+,Qd2,Be6,Nf3,f6,Be2,Qb6,O-O,Bb4,Qc2,O-O,d4,a6,d5,Bd7,Rab1,Qd6,Qb3,a5,Rfc1,a4,Qc2,a3,Bc3,Bc5,Rxb7,Ba4,Qa2,Rfb8,Rcb1,Rxb7,Rxb7,Kf8,Bb5,Bxf2+,Kxf2,Qc5+,Kf1', 'Bxb5+,Rxb5,Qxb5+', 'https://lichess.org/training/kunOE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KunPK', 'Rapid', 'DDDDD1000', 1902, 'bayarjagai', 2054, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Nf6,d4,d6,O-O,Be7,dxe5,dxe5,Bg5,Qd6,Rd1,Qb6,b4', 'Bg4,Qg3,Bxd1', 'https://lichess.org/training/KunPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kuO2w', 'Rapid', 'J-Dawg', 1903, 'FrancisquinhoGja', 1873, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Qd2,a6,f4,c5,Nf3,Nc6,dxc5,Nxc5,Bd3,O-O,O-O,Bd7,Rae1,Nxd3,cxd3,Rac8,Rf2,Qc5,a3,Nd4,Nxd4,Qxd4,Qe3', 'Qxe3,Rxe3,d4', 'https://lichess.org/training/kuO2w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuOa9', 'Rapid', 'a19086745678', 1972, 'olpm', 2104, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Nde2,d6,Ng3,Nf6,Bc4,O-O,O-O,Be6,Bb3,Rc8,h3,Ne5,f4,Qb6+,Kh1,Nc4,f5,Bd7,Bg5,Nxb2,Qe1,Rxc3,Qxc3,Nxe4,Qe3', 'Qxe3,Bxe3,Nxg3+', 'https://lichess.org/training/KuOa9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuOie', 'Rapid', 'ti_gana972', 1683, 'T87_87', 1716, 'd4,c5,d5,d6,c4,b5,cxb5,Bd7,Nc3,Nf6,e4,Qa5,Bd2,Qb6,a4,a6,a5,Qd8,b6,e6,Bg5,exd5,Nxd5,Nc6,Nc7+,Ke7,Nxa8,Qxa8,Qd5,Be6,Qd2,Nd4,Ra3,Qxe4+,Re3,Qb1+,Qd1,Nc2+,Kd2,Qxd1+,Kxd1,Nxe3+,Bxe3,Kd7,Bxa6,Be7,Bb5+,Kc8,a6,Bd8,b7+,Kb8,b4,Ne4,f3,Nc3+,Kc2,Nxb5,bxc5,dxc5,Bxc5,Na7,Ne2,Bc7,Nd4,Rd8', 'Bxa7+,Kxa7,Nc6+,Kxa6,Nxd8', 'https://lichess.org/training/KuOie');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kUoU4', 'Rapid', 'TateKCL', 2026, 'ihteandr1', 2022, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c3,a6,Bxc6,Nxc6,d4,exd4,cxd4,Bb4+,Nc3,d5,exd5,Qxd5,O-O,Bxc3,bxc3,Be6,h3,O-O,Ba3,Rfe8,Qd2,Bxh3,Rfe1,h6,Re3,Be6,Rae1,b5,Bc1,Na5,Re5,Qd7,d5,Nc4,dxe6,Nxd2', 'exd7,Nxf3+,gxf3', 'https://lichess.org/training/kUoU4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KUP3l', 'Rapid', 'Banzaj8', 2172, 'cegueraajedrecistica', 2187, 'e4,e6,Nc3,d5,exd5,exd5,d4,Bd6,h3,c6,Nf3,Ne7,Bd3,Bf5,O-O,O-O,Bg5,f6,Be3,Na6,a3,Nc7,Qd2,Qd7,Bf4,Bxd3,cxd3,Nf5,Rfe1,Rae8,Re2,Rxe2,Nxe2,Re8,Re1,Nb5,Bxd6,Qxd6,Kf1,Kf7,a4,Nc7,Qf4,Rxe2,Qxd6', 'Rxe1+,Kxe1,Nxd6', 'https://lichess.org/training/KUP3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KUptJ', 'Rapid', 'timbuktus', 2280, 'domolyko', 1886, 'd4,Nf6,Nf3,e6,g3,d5,Bg2,c6,O-O,Nbd7,b3,Be7,Bb2,O-O,Nbd2,a5,a3,a4,c4,b5,cxb5,cxb5,Ne5,Bb7,Rc1,axb3,Qxb3,Qa5,Rfd1,Bxa3,Bxa3,Qxa3,Qxa3,Rxa3,Nxd7,Nxd7,Rc7,Nb6,Rxb7,Nc4,Nxc4,bxc4,e3,Rfa8,Rdb1,g6,Rb8+,Rxb8,Rxb8+,Kg7,Rb1,Ra5,Bf1,f6,Rb7+,Kh6,h4,e5,Rc7,e4,Kg2,g5,hxg5+,fxg5,Rc5', 'Rxc5,dxc5,c3,Bc4,c2', 'https://lichess.org/training/KUptJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuPYy', 'Rapid', 'elverao', 1748, 'Waseem_980', 1763, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,Nc3,Bd7,Bg5,Be7,Qd2,Nd4,Bxd7+,Qxd7,Nd5,Nxd5,Nxd4,Bxg5,Qxg5,Nf6,Qxg7,Ke7,Nf5+,Ke6,d4,Nxe4,dxe5,Kxf5,g4+,Ke6,f4,f6', 'f5+,Kxe5,Qxd7', 'https://lichess.org/training/KuPYy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kuS6a', 'Rapid', 'Spocksheldon', 1604, 'woodlander90', 1740, 'Nf3,d5,c4,e6,Nc3,d4,Nb5,Nc6,e3,e5,exd4,exd4,Qa4,Bd7,d3,a6,Na3,Bb4+,Bd2,Qe7+,Be2,Ne5,Qxb4', 'Nxd3+,Kf1,Nxb4', 'https://lichess.org/training/kuS6a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kUSpz', 'Rapid', 'peoncaminante1', 1783, 'AldaArqt', 1658, 'e4,e5,f4,exf4,Nf3,g6,d4,Bg7,Bxf4,d6,c3,Nf6,Bg5,Qd7,Bc4,O-O,O-O,a6,e5,dxe5,Nxe5,Qe7,Ng4,Bxg4,Bxf6', 'Qe3+,Kh1,Bxd1', 'https://lichess.org/training/kUSpz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuUkp', 'Rapid', 'Negazuy', 1681, 'Yansuse2', 1792, 'e4,a6,Nc3,e6,d4,b5,Bf4,Bb7,a3,c5,d5,Nf6,Bg5,h6,Bh4,g5,Bg3,b4,axb4,cxb4,dxe6,bxc3,exf7+,Kxf7,e5,cxb2,Ra4,Ne4,Bc4+,Ke8', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/KuUkp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KUvfr', 'Rapid', 'dypaulchess', 1931, 'Sergey0123', 1767, 'd4,f5,c4,e6,Nc3,Nf6,g3,Be7,Bg2,O-O,e3,Nc6,Nf3,Ne4,O-O,b6,Nd2,Nxc3,bxc3,Bb7,Qb3,Na5,Qa4,Bxg2,Kxg2,Bf6,Ba3,Re8,Rab1,a6,c5,Nc6,cxb6,cxb6,Bd6,Qc8,Rxb6,Bd8,Rb2,Na5,Qc2', 'Qc6+,Kg1,Qxd6', 'https://lichess.org/training/KUvfr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KUvlG', 'Blitz', 'MikeSantama', 1947, 'VlamirB', 1854, 'b4,e5,Bb2,Nf6,Bxe5,d5,a3,Be6,Nf3,Bd6,Bb2,Qe7,e3,c5,bxc5,Bxc5,d4,Bd6,Nbd2,Nc6,Bd3,O-O-O,O-O,h5,c4,dxc4,Bxc4,h4,Bxe6+,Qxe6,h3,Rdg8,Ng5,Qd7,Nge4,Nxe4,Nxe4,g5,Rc1,Kb8,d5,Ne5,Nxd6,Qxd6,Qd4,f6,Rc2,g4,hxg4,Rxg4,Qc5', 'Nf3+,Kh1,Qh2#', 'https://lichess.org/training/KUvlG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuVZ6', 'Classical', 'feschenko86', 1884, 'Ibanchess962', 1952, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,d4,cxd4,Bxc6,Bxc6,Nxd4,Bd7,O-O,Bc5,Be3,Qb6,b3,Rc8,Nc3,Ne7,Nce2,Nf5,Bf2,Bb5,Nxf5,Bxf2+,Rxf2,exf5,Nd4,Bd7,Kh1,O-O,Rd2,g6,Qf3,Qb4,Rad1,Rc3,Qxd5,Bc6,Nxc6,bxc6,Qd4,Qxd4,Rxd4,Rxc2,Ra4,Kg7,Rxa7,Rd8,Rg1,Rd4,g3,Rdd2,Re1,Rxh2+,Kg1,Rcg2+,Kf1,Rxg3,e6,Rh1+,Kf2,Rxe1,Rxf7+,Kg8,Kxg3,Rxe6,Rc7,Re2,Rxc6,Rxa2,Kh4,Rb2,Rb6,Kg7,b4,h6,b5,Rh2+,Kg3,Rh1,Rc6,Rb1,b6,Rb3+,Kh4,g5+,fxg5,Rb4+,Kh5,hxg5,Kxg5,f4', 'Rc7+,Kf8,b7,f3,Rc8+', 'https://lichess.org/training/KuVZ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kux4t', 'Blitz', 'FM lindenice', 2244, 'Ocean-Wave', 2235, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nc6,h3,Bxf3,Bxf3,Qe5+,Kf1,Nd4,Bxb7', 'Qb5+,d3,Qxb7', 'https://lichess.org/training/kux4t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuXGF', 'Rapid', 'PERMKRAII', 1802, 'Gerasio', 1800, 'e4,e5,Bc4,d6,Nc3,c6,Nf3,h6,h3,Be7,d3,Nf6,a3,O-O,O-O,a6,Nh2,b5,Ba2,Bb7,f4,exf4,Bxf4,Nbd7,Qf3,Nh7,Bxh6,gxh6,Bxf7+,Kh8,Ng4,Ng5,Qf5,Rxf7,Qg6,Rxf1+,Rxf1,Bf8,Nxh6,Bxh6,Qxh6+,Nh7', 'Rf7,Qg8,Rxd7', 'https://lichess.org/training/KuXGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kuXGI', 'Rapid', 'AlmirBiser', 1748, 'veselino', 1780, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,d5,exd5,exd5,Bb5,Nf6,O-O,Be7,Re1,O-O,Ng5,Bg4,f3,Bh5,Nc3,Re8,Qd2,a6,Bxc6,bxc6,Qf4,Qd6,Qh4,Bg6,Bf4,Qd7,a3,Bd6,Bxd6,Qxd6,b4,Rxe1+,Rxe1,cxb4,axb4,Rb8,Rb1,Qe5,Nd1,Qe2,Nc3,Qxc2,Qh3,Qxc3,Qg3,Rxb4', 'Qb8+,Rxb8,Rxb8+,Ne8,Rxe8#', 'https://lichess.org/training/kuXGI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuXjN', 'Blitz', 'GuruChessAcademy', 2168, 'User_unspotable', 2143, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,c5,Nb5,f6,exf6,Nxf6,Bxf6,Bxf6,c3,a6,Na3,b5,dxc5,Qe7,Qh5+,g6,Qf3,O-O,O-O-O,Qxc5,Kb1,b4,cxb4,Qxb4,Qe2,Bb7,Nf3,Nd7,Qxe6+,Kh8,Rd2,Rae8,Qxd7,Re1+,Nxe1,Qxd2,Nd3,Qd1+,Nc1,Rc8,Bc4,Qxh1,Qxb7,Rd8,Qxa6,Qxh4,Bd3,Qxf2,Nc2,Rb8,b3,Bg7,Qd6,Rf8,g4,Qd2,Qb4,Qg5,Qd6,Bh6,Ne2,Qd2,Qxd5,Qd1+,Kb2,Bg7+,Ka3,Qb1,Ned4,Rc8,Qb7,Bf8+,Ka4,Qxa2+,Kb5', 'Rc5+,Kb6,Qa5#', 'https://lichess.org/training/KuXjN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kuxqg', 'Classical', 'Moses2009', 1614, 'hermann2', 1733, 'e4,e5,Nf3,Nc6,Bc4,Bc5,h3,a6,Bb3,Na5,Nxe5,Nxb3,axb3,Qg5,Ng4,d6,d3,Qe7,Be3,Bxg4,hxg4,Bxe3,fxe3,Qg5,Qf3,Nf6,Nc3,Nxg4,Nd5,O-O,Nxc7,Rac8,Nd5,Rxc2,Rb1,Ne5,Qd1,Qxg2', 'Ne7+,Kh8,Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/kuxqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kUZrv', 'Rapid', 'Manument', 1873, 'solimanennara', 1844, 'e4,c6,Nc3,d6,d4,a6,Nf3,h6,Bd3,Bg4,h3,Bh5,g4,Bg6,h4,Nf6,h5,Bh7,g5,hxg5,Nxg5,Qc7,Bf4,Nbd7,Qf3,e5,dxe5,dxe5,Bg3,Bg6', 'hxg6,Rxh1+,Qxh1', 'https://lichess.org/training/kUZrv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KuZvs', 'Classical', 'walledmq', 1726, 'Patrickcueto', 1745, 'e4,e5,Nf3,d5,d4,dxe4,Nxe5,Nf6,Bc4,Be6,Bxe6,fxe6,c3,Bd6,Nc4,O-O,Qb3,b6,O-O,Ng4,g3,Qf6,Nbd2,Qh6,h4,Nxf2,Rxf2,Bxg3,Rxf8+,Kxf8,Nxe4,Qxh4,Nxg3,Qxg3+,Kf1,Nc6,Qc2,Ke7,Qf2', 'Rf8,Qxf8+,Kxf8', 'https://lichess.org/training/KuZvs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kv0HL', 'Rapid', 'LOLOBOB', 1829, 'phillfw', 1835, 'd4,Nf6,Bf4,d6,Nd2,Nbd7,Ngf3,g6,e3,Bg7,Bc4,Nh5,Bg3,O-O,Nh4,Re8,Be2,Nxg3,hxg3,e5,c3,c5,Nb3,cxd4,exd4,exd4,Nxd4,Qe7,O-O', 'Bxd4,Qxd4,Qxe2', 'https://lichess.org/training/Kv0HL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KV20o', 'Rapid', 'britishpawnstar1', 2031, 'bacholt', 1957, 'e4,e5,Bc4,d6,Nf3,Qe7,Nc3,c6,d4,h6,d5,c5,O-O,a6,a4,g5,h3,g4,hxg4,Bxg4,Qd3,Nf6,Nh2,Bd7,f4,Rg8,f5,Bc8,Qh3,Nbd7,Bxh6,Nb6,Be2,Bd7,Be3,O-O-O,b4,Na8,bxc5,dxc5,Rab1,Qd6,Rb2,Nc7,Rfb1,Ncxd5,exd5,Nxd5,Nxd5,Qxd5,Rb3,Bc6,Rd1,Rxg2+,Qxg2', 'Qxg2#', 'https://lichess.org/training/KV20o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KV3hn', 'Blitz', 'Ricky_J', 1872, 'Peadehtanha', 1880, 'e4,e5,Nc3,f5,d3,fxe4,Nxe4,Nf6,Nf3,Nxe4,dxe4,c6,Nxe5,d5,exd5,Qf6,Qe2,Be7,Bd2,O-O,O-O-O,cxd5,Nd3,Bf5,f4,Nc6,Be3,Rac8,g4,Bxd3,Qxd3,Nb4,Qb3,Rxc2+,Kb1,Rc5,Bxc5,Bxc5,Bg2,Qxf4,Bxd5+,Kh8,Bc4,a6,Rhf1,Qe4+,Bd3,Nxd3,Rxf8+,Bxf8,Qxd3,Qxg4,Rf1,Qc8,Qf3,Bd6,h4,h6,a3,Qg8,h5,Be7,Qf7,Bf6,Qg6,Qd5,Qe8+,Kh7,Qg6+,Kg8,Qe8+,Kh7,Re1,Qd3+,Ka1', 'Qxa3+,Kb1,Qxb2#', 'https://lichess.org/training/KV3hn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kv5d2', 'Classical', 'vijayhallur999', 1922, 'wasserflasche', 1961, 'e4,e6,d4,d5,Nd2,c5,Ngf3,cxd4,Nxd4,Nc6,Bb5,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,exd5,cxd5,O-O,Nf6,Nf3,Be7,h3,O-O,c3,a5,Bf4,Qb6,Rb1,Rfd8,Be5,a4,a3,Ne4,Qc2,Bf6,Bd4,Bxd4,Nxd4,Rdc8,Nf3,Qc5,Ne5,f6,Nd3,Qc4,Nb4,f5,Rfd1,Rd8,Rd4,Qc5,Nd3,Qc7,Qe2,e5,Rb4,d4,f3,Ng3,Qxe5,Qxe5,Nxe5,dxc3,bxc3,Ne2+,Kh2,Nxc3,Rc1', 'Na2,Rcb1,Nxb4', 'https://lichess.org/training/kv5d2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kV6Tz', 'Blitz', 'Enchanted47', 2075, 'LM PeshkaCh', 2317, 'd4,d5,c4,c6,Nf3,Nf6,Bg5,e6,e3,Be7,Bd3,h6,Bh4,O-O,O-O,Nbd7,Nbd2,Re8,Rc1,Nf8,cxd5,exd5,Ne5,Be6,f3,N8d7,Bg3,Nxe5,Bxe5,Nd7,Bg3,c5,Bb1,cxd4,exd4,Bf6,Nb3,a5,Qd3,Nf8,Nc5,b6,Bc7,Qxc7,Nxe6,Qe7,Nc7,Rac8,Nxe8,Rxe8,Rce1,Qxe1,Rxe1,Rxe1+,Kf2,Rc1,Bc2,Bxd4+,Qxd4,Rxc2+,Kg3,b5,a3,a4,h4,Ne6,Qxd5', 'Rxg2+,Kxg2,Nf4+,Kf1,Nxd5', 'https://lichess.org/training/kV6Tz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KV7ZV', 'Rapid', 'Rate2000Breaker', 1892, 'Satranc1964', 2000, 'Nf3,d5,c4,e6,cxd5,exd5,b3,Nf6,Bb2,Bc5,g3,c6,Bg2,Bg4,O-O,O-O,Qc2,Bb6,Ng5,h6', 'Bxf6,hxg5,Bxd8', 'https://lichess.org/training/KV7ZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kV9Yy', 'Blitz', 'Peristilo', 2016, 'Tabyshbek_1961', 2016, 'd4,d6,c4,Nd7,Nf3,e5,e4,Be7,Nc3,c6,Bd3,Ngf6,O-O,O-O,Bc2,a5,a3,Qc7,h3,b6,Be3,Ba6,b3,Rfc8,Qd2,b5,Bd3,bxc4,Bxc4,Bxc4,bxc4,exd4,Bxd4,c5,Bxf6,Bxf6,Rad1,Ne5,Nxe5,Bxe5,Nb5,Qe7,f4,Bd4+,Nxd4,cxd4,Qxd4,Rc6,e5,dxe5,fxe5,Qxa3,Qd5,Qc5+,Kh1,Qxc4', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/kV9Yy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kvAaq', 'Rapid', 'Beauvain', 2240, 'Volodya51', 2169, 'e4,d6,d4,Nf6,Nc3,a6,f4,e6,Nf3,Be7,e5,Nfd7,Bd3,O-O,O-O,g6,Ne4,d5,Nc3,c5,dxc5,Nxc5,Qe1,Nxd3,cxd3,b6,d4,b5,a3,Nd7,Qg3,Bb7,Ng5,Kg7,Qh3,h6,Nf3,Rc8,f5,exf5,Bxh6+,Kg8,Bxf8,Qxf8,g4,fxg4,Qxg4,Nb6,Nh4,Qg7,Rf2,Rf8,Raf1,Bc8,Qg3,Be6,Nf3,Qh6,Ne2,Nc4,Nf4,Ne3,Re1,Nf5,Qg4,Kg7,Nxe6+,fxe6,Rc2', 'Ne3,Rxe3,Qxe3+', 'https://lichess.org/training/kvAaq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kvasp', 'Rapid', 'masterofking', 1804, 'kycity', 1872, 'e4,e5,Nf3,d6,Bc4,Bg4,d3,Nf6,Bg5,Be7,Nbd2,h6,h3,Bxf3,Nxf3,Nc6,Be3,a6,a4,Na5,Ba2,Qd7,Qd2,b6,O-O,c5,Kh2,g5,b4,Nc6,b5,axb5,axb5,Na7,c4,g4,Ng1,gxh3,Nxh3,O-O-O,f4,Rdg8,fxe5,dxe5,Rf5,Ng4+,Kg1,Bd6,Bb3,Bb8,Bd1,h5,Bf3,Kb7,Bg5', 'Qd4+,Nf2,Qxa1+', 'https://lichess.org/training/Kvasp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kvbjk', 'Rapid', 'bagel34BC', 1755, 'Achilles2002', 1635, 'c4,c5,Nc3,Nc6,Nf3,d6,d4,cxd4,Nxd4,Bd7,Bf4,g6,e3,Nxd4,Qxd4,e5', 'Bxe5,dxe5,Qxe5+,Qe7,Qxh8', 'https://lichess.org/training/kvbjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kvBWa', 'Rapid', 'Grantelope', 2310, 'jardiwelo', 2281, 'd4,Nf6,Bf4,c5,d5,d6,c4,g6,Nc3,Bg7,e4,O-O,Bd3,Re8,Nf3,Bg4,h3,Bxf3,Qxf3,Na6,a3,Nc7,O-O,a6,a4,b6,e5,Nh5,exd6,exd6,Bd2,Qd7,Rae1,Rab8,Rxe8+,Rxe8,b3,f5,Ne2,b5,axb5,axb5,Nf4,Nxf4,Bxf4,bxc4,bxc4,Na6,Bd2,Qa4,Rb1,Nb4,g4,fxg4,hxg4,Bd4,Bh6,Qa2,Rd1,Qb3,Be2,Qc2,Bd3,Nxd3,Rxd3,Qxc4,Ra3,Bg7,Ra7,Bf6,g5,Qh4,gxf6', 'Re1+,Kg2,Qh1+,Kg3,Rg1+', 'https://lichess.org/training/kvBWa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kvC8I', 'Classical', 'kokoeurospoko', 1669, 'Aubai6543', 1655, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e3,d6,Bd3,Nbd7,b3,Re8,Bb2,Nf8,Nd2,h6,Qc2,e5,O-O-O,Be6,f3,a6,g4,b5,cxb5,axb5,Bxb5,Nd5,Nxd5,Bxd5,Bxe8,Qxe8,Qxc7', 'Rc8,Qxc8,Qxc8+', 'https://lichess.org/training/kvC8I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kvcNK', 'Blitz', 'douiche', 2166, 'rhayalcantara', 2241, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,f3,Be7,Be3,O-O,O-O-O,a6,g4,b5,g5,Nd7,h4,c5,Qd2,b4,Nd5,Nb6,h5,Nxd5,exd5,Bf5,Bd3,Bxd3,cxd3,Rc8,Kb1,c4,dxc4,Rxc4,f4,Qc8,Qd3,Re8,f5,Rg4,Rdg1,Rxg1+,Rxg1,Bf8,f6,Rxe3,Qxe3,Qf5+,Ka1,Qxd5,g6,hxg6,hxg6,fxg6,fxg7,Kxg7,Qf4,Be7,Qxb4,g5,Qb3,Qc5,Rf1,Bf6,Qf3,Qe5,Qf2,d5,Rd1,d4,Re1,Qb5,Rf1,Qb6,a3,a5,Ka2,Qe6+,Ka1,d3,Re1,Qd6,Qe3', 'Qxa3+,Kb1,Qxb2#', 'https://lichess.org/training/kvcNK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KVe58', 'Rapid', 'Rees_Pop', 1613, 'Chrisgupru', 1722, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Qf3,Bxe4,Qxe4,Nf6,Qh4,e6,Bg5,Be7,Nf3,h6,Bc4,O-O,Bxh6,Ne4,Qxe4,gxh6,Qg4+,Kh7,Bd3+,f5,Qf4,Qd6,Ne5,Bf6,O-O-O', 'Bg5,Qxg5,hxg5', 'https://lichess.org/training/KVe58');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kvFUR', 'Rapid', 'slon12', 1983, 'baggiot', 1844, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d5,e5,Nxe5,Be2,Nf6,O-O,Be7,Bf4,Ng6,Bg3,c6,c4,dxc4,Bxc4,O-O,Nf3,Qb6,b3,Bg4,Be2,Rad8,Qc2,Bd6,Nc3,Bxg3,hxg3,Rfe8,Bc4,Bxf3,gxf3,Ne5,Kg2,Nxc4,bxc4,Qd4,Rh1,h6,Rad1,Qxc4,Qb2,Rxd1,Rxd1,b6,Rd2,Nd5,Ne4,Qb4,Qc2,Rc8', 'Rxd5,cxd5,Qxc8+', 'https://lichess.org/training/kvFUR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kVGSa', 'Rapid', 'lichess_ab', 1835, 'krsnads', 1984, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nf3,Bg4,Nxc3,Nd7,Qb3,Bxf3,Bxf7+,Ke7,Bg5+,Ngf6,gxf3,Nc5,Bxf6+,Kxf6,Nd5+,Kxf7,Qc3,c6,Nb4,Qf6,Qxf6+,gxf6,Rg1,Bh6,Rg4,a5,Nc2,Nd3+,Ke2,Nf4+,Kf1,Rhg8,Ne3,Rxg4,fxg4,Rd8,Nc4,d5,Nxa5,dxe4,Nxb7,Rb8,Nd6+,Ke6,Nxe4,Rxb2,Re1,Rxa2', 'Nc3+,Kf7,Nxa2', 'https://lichess.org/training/kVGSa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KvHfh', 'Rapid', 'kli-mat', 1665, 'FerjoSotelo', 1688, 'Nf3,b6,d4,Bb7,c4,Nf6,Bg5,Ne4,Bf4,d6,Nbd2,Nd7,d5,e5,Nxe4,exf4,g3,fxg3,hxg3,Be7,Qc2,f5,Ned2,g6,Bh3,Bf6,e4,Qe7,O-O-O,O-O-O,exf5,gxf5,Bxf5,Kb8,Rhe1,Qg7,Ne4,Nc5,Nxf6,Qxf6,b4,Na6,Nd4,Nxb4,Qb2,Na6', 'Nc6+,Bxc6,Qxf6', 'https://lichess.org/training/KvHfh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kVHq7', 'Rapid', 'BENCROS', 1848, 'Rudika', 1795, 'd4,d5,Bg5,h6,Bh4,Nc6,e3,g5,Bg3,f6,Qh5+,Kd7,Bd3,e6,Nc3,Bd6,Bxd6,cxd6,Nf3,Nge7,O-O,a6,a3,Qg8,h3,Kc7,e4,Qe8,Qg4,e5,Qg3,exd4,Nxd5+,Nxd5,exd5,Ne5,Nxd4,h5,Rfe1,g4,h4,Qe7,c4,Qf7,Rac1,Nxd3,Qxd3,Rg8,c5,Kb8,cxd6,Qxd5,Nc6+,bxc6,Qxd5,cxd5,Rc5,Ra7,Rxd5,Bd7,Rxh5,g3,f3,Kb7,Rh7,Kc6,Rc1+,Kd5,b4,Re8,Rd1+,Kc4,Rg7,Kc3,Rxg3,Kc2,Rd4,Re1+,Kf2,Rb1,h5,Bb5,h6,Rf1+,Ke3,Re1+,Kf4,Rd7,Kf5,Bd3+,Kxf6,Rh1,f4,Rxh6+,Kg5', 'Rg6+,Kh4,Rh7#', 'https://lichess.org/training/kVHq7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KVIzJ', 'Rapid', 'vito_uljarevic', 1889, 'Blajburg70', 1928, 'e4,Nc6,f4,d6,Nf3,e5,f5,Nf6,d3,d5,Bg5,h6,Bxf6,Qxf6,exd5,Nd4,Nxd4,exd4,Qe2+,Be7,Nd2,Bxf5,O-O-O,h5,Re1,O-O-O', 'Qxe7,Rhe8,Qxe8,Rxe8,Rxe8+', 'https://lichess.org/training/KVIzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KvJXm', 'Classical', 'Shlezy', 1702, 'SharpAsHell', 1699, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Nc3,Nd4,Bxd7+,Qxd7,Nxd4,exd4,Nd5,c6,Nf4,Nf6,d3,Be7,c3,dxc3,bxc3,O-O,d4,Nxe4,Qf3,Ng5,Qd3,b6,Nh5,c5,Bxg5,Bxg5,Qg3,Bh6', 'Nf6+,Kh8,Nxd7', 'https://lichess.org/training/KvJXm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kVK1e', 'Classical', 'hossein_feg', 1931, 'lukuna', 1974, 'd4,Nf6,c4,d6,Nf3,g6,Nc3,Bg7,e4,O-O,Be2,Nbd7,Be3,Ng4,Bg5,h6,Bh4,g5,Bg3,e5,h3,exd4,Nxd4,Nge5,Nf5,Nb6,Nxg7,Kxg7,Qd4,Qf6,Nd5', 'Nf3+,Bxf3,Qxd4', 'https://lichess.org/training/kVK1e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KVkha', 'Rapid', 'ericlorraine', 1844, 'Khasimir007', 1835, 'd4,f5,c4,e6,g3,Nf6,Bg2,c6,Nc3,d6,Bg5,h6,Bf4,g5,Bd2,Bg7,e3,O-O,Nge2,Bd7,O-O,d5,Qb3,b6,cxd5,cxd5,Nxd5,exd5,Bxd5+,Nxd5,Qxd5+,Kh8', 'Qxa8,Bc6,Qxa7', 'https://lichess.org/training/KVkha');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kvMf1', 'Rapid', 'landy17', 1852, 'Eser2016', 1955, 'e4,c5,d4,cxd4,c3,d5,e5,dxc3,Nxc3,Nc6,Nf3,e6,Bb5,Bd7,O-O,Be7,Qe2,a6,Bd3,f6,Nxd5,exd5,e6,Bc8,Nh4,Nd4,Qh5+,g6,Bxg6+,Kf8,Bh6+,Nxh6', 'Qxh6+,Kg8,Bf7#', 'https://lichess.org/training/kvMf1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kvp1M', 'Rapid', 'marwaha', 1870, 'razavi2775s', 1889, 'e4,d5,e5,Bf5,d4,Nc6,c3,f6,f4,e6,Nf3,fxe5,fxe5,Nge7,Bd3,Bxd3,Qxd3,Qd7,O-O,O-O-O,b4,a6,a4,Na7,Na3,Qxa4,Ng5,Qc6,Nf7,Rg8,Nxd8,Kxd8,Bg5,Kc8,Rxf8+,Rxf8,Bxe7,Rf7,Bh4,h6,b5,axb5,Rb1,b6,Nxb5,Nxb5,Qxb5,Qxb5,Rxb5,Kb7,h3,Kc6,Rb4,b5,Rb1,Kb6,g4,Rf3,Kg2,Rxc3,Be7,g6,Rf1,h5,gxh5,gxh5,Rf6,Kc6,Rxe6+,Kd7,Bb4', 'Rc2+,Kf3,Kxe6', 'https://lichess.org/training/Kvp1M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KVPrM', 'Classical', 'vjhjpjd', 1758, 'murali0', 1893, 'd4,d5,a3,Nf6,e3,e6,Nf3,Bd6,c4,O-O,c5,Be7,b4,b6,Nbd2,bxc5,bxc5,Nc6,Bb5,Bb7,Rb1,Rb8,Qa4,Qe8,Ne5,Ne4,Nxc6,Bxc6,Bxc6,Rxb1,Bxe8', 'Rxc1+,Ke2,Nc3+,Kd3,Nxa4', 'https://lichess.org/training/KVPrM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kvqoz', 'Classical', 'Edylson', 1758, 'Kol_2001', 1970, 'd4,d5,Bf4,Nf6,e3,e6,Bd3,Bd6,Bg5,h6,Bh4,c5,c3,c4,Bc2,Nc6,Nf3,Be7,Bg3,O-O,Nbd2,Re8,h4,Bd6,Qe2,Qc7,Nf1,b5,b3,a5,a4,bxa4,bxa4,Rb8,Bxd6,Qxd6,Ng3,e5,Nf5,Bxf5,Bxf5,exd4,Nxd4,Nxd4,cxd4,Rb3,Bc2,Qb4+,Kf1,Rb2,Rc1,Rb8,g3,Ne4,Kg2,Qd6,Qf3,Re8,h5,Ng5,Qf5,Re6,f4,Rf6', 'Qc8+,Qf8,Qxf8+,Kxf8,fxg5', 'https://lichess.org/training/Kvqoz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KvQUy', 'Classical', 'D05mar', 1961, 'Rezaatharinia', 1856, 'c4,e6,g3,g6,Bg2,Bg7,Nf3,Nc6,d4,d5,O-O,Nge7,b3,O-O,Bb2,b6,Nbd2,Bb7,Re1,Rc8,e4,dxc4,Nxc4,Nb4,a3,Na6,b4,c5,b5,Nc7,dxc5,Nxb5,Bxg7,Kxg7,Qb3,Rxc5,Rad1,Qc7,Nce5,Rxe5,Qb2,f6', 'Nxe5,Qxe5,Qxe5,fxe5,Rd7,Rf7,Rxb7,Nc6,Rxf7+', 'https://lichess.org/training/KvQUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KvqWl', 'Rapid', 'Emilio_Major', 1967, 'dibran1', 1981, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Be2,g6,Nxc6,bxc6,Qd4,f6,Bg5,e5,Qxe5+', 'fxe5,Bxd8,Kxd8', 'https://lichess.org/training/KvqWl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KVrhb', 'Rapid', 'parcivalrogge', 2429, 'Lightning_Death', 2360, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,O-O,Nbc6,h3,Be6,c3,Qd7,Re1,O-O-O,Ng5,Rde8,Nxe6,fxe6,b4,Nf5,b5,Na5,Nd2,g5,Qa4,b6,Nb3,Nxb3,Qxa7,c5,Qa6+,Qb7,axb3,cxd4,cxd4,h6,Bb2,Bc7,Rec1,Kb8,Qa3,h5,Rc6,Ne7,Rxe6,Nc8,Rc6,Ne7,Rxc7,Kxc7,Bc1,Rhg8,h4,Nc8,Bxg5,Rgf8,g3,Kd7,Rc1,Na7,Qa6,Qb8,Bf1,Re6,Bh3,Rf3,Re1', 'Rxg3+,fxg3,Qxg3+', 'https://lichess.org/training/KVrhb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kVRvA', 'Blitz', 'Janik250', 1612, 'osamayousef', 1577, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Nbd7,b4,O-O,Be2,e5,O-O,Ne8,d5,f5,Bb2,f4,Na4,b6,Nc3,g5,g3,h5,a4,Bf6,a5,g4,Nd2,f3,Bd3,h4,axb6,hxg3,fxg3,cxb6,Nb3,Qe7,Ba3,Qh7,Rf2,Bg5,c5,Be3,Qe1,Bxf2+,Qxf2,Qh3,c6,Ndf6,b5,Kf7,Ra2,Rh8,Nd2,Nh7,Nc4,Ke7,Nxe5,Ng5,Ng6+,Kf7,Nxh8+,Qxh8,Kh1,Nf6,Bc2,Nh3,Qd2,f2,Bd3,Qh7,Ne2,f1=Q+,Ng1,Qf2,Qxf2,Nxf2+,Rxf2,Qh6,Bxd6,Kg7,Be5,a5,Bxf6+,Qxf6,Rxf6,Kxf6,Ne2,a4,Nc3,a3,Bc4,Ke5,Ba2,Kd4,d6,Kxc3,d7,Bxd7,cxd7,Kb2,Be6,a2', 'Bxa2,Kxa2,e5,Kb3,e6', 'https://lichess.org/training/kVRvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KvSjB', 'Rapid', 'Eyesbutcannotsee', 2219, 'Jameelkhan909', 2090, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,Nf3,g6,Be2,Bg7,b3,O-O,Bb2,Bg4,h3,Bxf3,Bxf3,Nc6,O-O,dxe5,Bxc6,bxc6,dxe5,Qc8,Qe2,Qe6,Nd2,Rad8,Rad1,Nd7,Rfe1,Nc5,Qe3,Nd3,Bd4,Nxe1,Rxe1,a5,f4,Bh6,Ne4,Qf5,Rf1,Qd7,Bc3,Qd3,Qe1,Qc2,Rf2,Qd3', 'Rd2,Bxf4,Rxd3', 'https://lichess.org/training/KvSjB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kvU5r', 'Rapid', 'ALKUDIES', 1855, 'Sipontino', 1810, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d6,h3,e5,d3,Be7,Be3,Nf6,Nbd2,O-O,a3,Rb8,b3,Qc7,Nc4,d5,Ncxe5,d4,Bf4,Bd6,Qd2,Nh5,Bh2,f5,Nc4,Bxh2+,Nxh2,fxe4,dxe4,Nf4,Rae1,Be6,e5,Nd5,Nd6,Qe7,f4,Qh4,f5,Ne3,Rxe3,dxe3,Qxe3,Bd5,Qxc5,g6,c4,Rxb3,cxd5,Rb2,Nf3,Qg3,Rf2,Rb1+,Rf1,Rb2,Rf2,Rb1+,Rf1,Rfb8,dxc6,Rxf1+,Kxf1,Rb1+,Ke2,Qxg2+,Qf2', 'Rb2+,Nd2,Rxd2+,Kxd2,Qxf2+', 'https://lichess.org/training/kvU5r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KVUfL', 'Rapid', 'dulceolivia', 1801, 'leomessi1010', 1820, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bb6,a4,a5,b5,Nce7,Nxe5,Nh6,d4,d6,Bxh6,dxe5,Bxg7,Rg8,Bxe5,Rxg2,Qh5,Ng6,Qxh7,Nxe5,Qh8+,Kd7,Qxe5,c6,Bxf7,Qh4,Be6+,Kd8,Qd6+', 'Ke8,Rf1,Qxe4+', 'https://lichess.org/training/KVUfL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kVVcH', 'Blitz', 'StrChesssFull', 2095, 'A___91', 2125, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,h3,Nf6,c3,O-O,O-O,Be6,Bxe6,fxe6,b4,Bb6,a4,a6,Be3,h6,Na3,d5,Bxb6,cxb6,b5,dxe4,bxc6,exf3,Qxf3,bxc6,Qxc6,Re8,Rfd1,Rc8,Qb7,Rxc3,Qxa6,Qd6,Nb5,Qc5,Nxc3,Qxc3,Qxb6,Nd5,Qb5,Rf8,a5,Qd4,Rf1,Nc3,Qb6,Ne2+,Kh1,Qd5,a6,Nf4,Rg1,Nxh3,Rgf1,Nf4,Qb7,Qd8,a7', 'Qh4+,Kg1,Ne2#', 'https://lichess.org/training/kVVcH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kvwJG', 'Blitz', 'KingKnightFirst', 1762, 'AyubM', 1719, 'Nf3,e6,c4,d5,e3,c6,d4,Nf6,Nc3,Be7,Bd3,Nbd7,cxd5,cxd5,O-O,O-O,h3,b6,Qe2,h6,Bd2,Re8,Rac1,Nf8,Bb1,Ng6,Ne5,Nxe5,dxe5,Nd7,Qd3,g6,e4,Nxe5,Qg3,d4,f4,dxc3,Bxc3,Nd7,f5,g5,h4,e5,Bxe5,Nxe5,Qxe5,Bf6,Qb5,g4,Rc6,Bd7,e5,Bxh4,Qe2,Bxc6,Qxg4+,Bg5,f6,Rxe5,Rf5,Rxf5,Qxf5,Qd1+,Kh2,Qd2', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/kvwJG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KvxFC', 'Rapid', 'Lumiiii', 2000, 'Nahamkin', 1958, 'e4,c5,Nf3,Nc6,Bb5,Nd4,Nxd4,cxd4,O-O,e5,d3,g6,c3,Bg7,cxd4,exd4,Qf3,Ne7,Bg5,h6,Bh4,O-O,Bc4,Qe8,Nd2,Nc6,a3,Ne5,Qe2,Nxc4,Nxc4,d5,Nd2,f5,Rfe1,dxe4,dxe4,fxe4,Nxe4,Bf5,Qd3,Qc6,Rac1,Qd5,Rc5', 'Bxe4,Rxd5,Bxd3', 'https://lichess.org/training/KvxFC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KVYhq', 'Rapid', 'Diegogar21', 2040, 'CaptNCarter', 2037, 'c4,e6,Nc3,Nf6,g3,d5,Bg2,c6,cxd5,exd5,d4,Bf5,e3,Bd6,Nge2,O-O,O-O,Qd7,Qb3,Na6,Bd2,Nc7,f3,Bh3,e4,Bxg2,Kxg2,dxe4,fxe4,Be7,Rac1,Qg4,Rf4,Qg6,Qxb7,Rfc8,Qb3,Ne6,Rf5', 'Nxe4,Nxe4,Qxf5', 'https://lichess.org/training/KVYhq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KVyYD', 'Blitz', 'Dr_Papakus', 1563, 'rolbot', 1537, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Nc6,Qf3,Nf6,Nc3,e6,Nge2,a6,Bd3,Ne5,Qe3,Nxd3+,Qxd3,Bd6,O-O,O-O,f4,Qc7,Qg3,e5,Qf3,exf4,Nxd5,Nxd5,Qxd5,Be6,Qf3,Rae8,d3,Qb6+,Kh1,Qc5,Bxf4,Bxf4,Nxf4,Qxc2,Nxe6,Rxe6,Rac1,Qxb2', 'Qxf7+,Rxf7,Rc8+,Re8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/KVyYD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kVZ0C', 'Rapid', 'n00bslayer69420', 1569, 'Jhuser22', 1587, 'e4,Nf6,Nc3,h6,e5,Ng8,d4,Nc6,Nf3,d6,Bb5,dxe5,Nxe5,Bd7,Nxd7,Qxd7,Be3,a6,Bd3,e5,d5,Nce7,Be4,f6,O-O,O-O-O,a4,Nf5,Bxf5,Qxf5,b4,Bxb4,Qd2,Ne7,Rab1,Nxd5', 'Nxd5,Bxd2,Ne7+,Kb8,Nxf5', 'https://lichess.org/training/kVZ0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kw08X', 'Rapid', 'joaoh', 1632, 'No_Computer_Benoit', 1642, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Nd7,Nbd2,c5,c3,cxd4,cxd4,Bb4,O-O,Ne7,a3,Ba5,b4,Bb6,Bb2,Nf5,h3,a5,b5,a4,g4,Ne7,Nh2,Nc8,Ndf3,Na7,Rab1,O-O,Bc3,Re8,h4,Ba5,Ng5,h6,Qh7+,Kf8,Bxa5,Qxa5,Ngf3,Nxb5,g5,Ke7,Qxg7,Rg8,Qxh6', 'Rh8,Qg7,Rag8,Qxg8,Rxg8', 'https://lichess.org/training/Kw08X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kw2JH', 'Classical', 'Retkit', 1820, 'McElek', 1873, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nc3,a6,Bxc6,bxc6,O-O,e6,f4,Be7,Qf3,Bf6,Be3,Ne7,e5,dxe5,fxe5,Nf5,exf6,Qxf6,Nxf5,exf5,Rae1,O-O,a3,a5,Bd2,Rab8,b3,Qd4+,Kh1,Qxd2,Rd1,Qxc2,Rxd7,Rxb3,Rd3,c5,Qxf5,Rxc3', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/kw2JH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KW3pB', 'Classical', 'Hassan1357', 1770, 'ch42', 1685, 'e4,c5,Bc4,d6,Qf3,Nf6,h3,e6,Ne2,Be7,O-O,O-O,Nf4,Nbd7,Nh5,Ne5,Nxf6+,Bxf6,Qe2,a6,a4,Bd7,f4,Nxc4,Qxc4,b5,Qe2,Bd4+,Kh1,bxa4,c3,Bf6,e5,dxe5,fxe5,Be7,Qg4,c4,Rf3,Qc7,Rg3,Qxe5,d4,Qe1+,Kh2,g6,Nd2,Bd6,Ne4,Bxg3+,Nxg3,Qf2,Ne4,Qf5', 'Qxf5,exf5,Nf6+,Kg7,Nxd7', 'https://lichess.org/training/KW3pB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kw9i2', 'Blitz', 'Vijeth', 1840, 'Achilleon', 2087, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,e6,Be2,Nf6,Bg5,b5,Bf3,e5,Nf5,g6,Ne3,Bb7,Ned5,Nbd7,O-O,Be7,Nxe7,Qxe7,Nd5,Bxd5,exd5,O-O,Re1,h6,Bxh6,Rfc8,Bg5,Rc5,c3,Rac8,Bg4,Kg7,Qf3,e4,Rxe4', 'Qxe4,Bxf6+,Nxf6,Qxe4,Nxe4,Bxc8,Rxc8', 'https://lichess.org/training/kw9i2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kWbDQ', 'Rapid', 'Patrick_3012', 1751, 'DrMoss_2050_MJC', 1757, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Qxd4,Nc6,Qd5,Be6,Qd3,Bxc4,Qxc4,Nf6,Nc3,Be7,O-O,O-O,b3,a6,Bb2,Re8,Qe2,Nh7,e5,Nxe5,Nxe5,dxe5,Qxe5,Bd6,Qh5,Ng5,Rae1,Rxe1,Rxe1,Qf6,Qg4,Be5,Ne4', 'Nxe4,Qxe4,Bxb2', 'https://lichess.org/training/kWbDQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KWBkY', 'Blitz', 'jim311', 1882, 'rainyrayn', 1898, 'd4,Nf6,Nc3,e6,Bf4,Bb4,e3,Nd5,Bg3,Nxc3,Qd2,Nd5,c3,Be7,Nf3,O-O,Bd3,b6,h4,Ba6,Bc2,c5,h5,h6,Ne5,cxd4,exd4,d6,Ng4,f5,Nxh6+,gxh6,Qxh6,Rf6,Qg5+,Kh7,h6,Rg6,Qh5,Nf6,Qf3,Nbd7,O-O-O,Rc8,Bf4,Nd5,Bd2,Bg5,Rh5,Bxd2+,Rxd2,N7f6,Rh3,Ng4,Bxf5,exf5,Qxd5,Qg5,Qf7+,Kh8,Rg3,f4,Rh3,Nxf2,Rxf2,f3+,Kc2,fxg2,h7,g1=Q', 'Qf8+,Rxf8,Rxf8+,Kg7,h8=Q#', 'https://lichess.org/training/KWBkY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kWBV3', 'Classical', 'noyes', 1814, 'Marssou07', 1670, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bd3,O-O,O-O,Re8,Re1,Bg4,Bd2,Nd7,c4,c5,Rxe8+,Qxe8,h3,Bxf3,Qxf3,cxd4,Re1,Ne5,Qf5,g6,Qxf6,Qe7', 'Qxe7,Bxe7,Rxe5', 'https://lichess.org/training/kWBV3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kWcUq', 'Rapid', 'gogolo', 1642, 'frankmoses', 1712, 'b4,e5,Bb2,Bxb4,Bxe5,Nf6,Nf3,d5,Bb2,Nc6,e3,Bf5,Nc3,Qd7,Be2,O-O-O,O-O,h5,h3,Ne4,Nxe4,dxe4,Nh2,g5,Bxh8,Rxh8,Rb1,g4,hxg4,hxg4,Bxg4,Bd6,g3,Ne5,Bxf5,Qxf5,f4,Qh3,Rf2', 'Nf3+,Qxf3,exf3', 'https://lichess.org/training/kWcUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwdCp', 'Classical', 'legalizenalasde15', 1627, 'spd007', 1755, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,e5,Nf3,Nc6,Bb5,d6,Nc3,a6,Ba4,b5,Bb3,Nf6,Qe2,Be7,O-O,Bg4,h3,Bxf3,Qxf3,Nd4,Qe3,Nd7,Nd5,Bg5,Qd3,Bxc1,Raxc1,Nc5,Qe3,O-O,a3,Ncxb3,cxb3,f5,Rfd1,f4,Qd3,Rc8', 'Rxc8,Qxc8,Ne7+,Kf7,Nxc8', 'https://lichess.org/training/kwdCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwDsa', 'Rapid', 'Frederick1957', 1750, 'Aguirra', 1748, 'e4,d5,e5,c5,Nf3,f6,exf6,Nxf6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,e5,Re1,Bd6,d3,O-O,Bg5,Qe7,Nc3,Nb6,Nb5,Rae8,Nxd6,Qxd6,Bxf6,Rxf6,c3,h6,a4,Rfe6,a5,Nd7,Qb3,b6,axb6,axb6,Nd2,c4,dxc4,Nc5,Qa2,d4,Ne4,Nxe4,Rxe4,Rd8,Rae1,d3,g3', 'd2,Rd1,Qd3,Re3,Qc2', 'https://lichess.org/training/kwDsa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kWEjv', 'Blitz', 'Megash1983', 2188, 'CM Kingscrusher-YouTube', 2178, 'c4,e5,g3,Nc6,Bg2,g6,Nc3,Bg7,e4,d6,d3,h6,Nge2,Nge7,O-O,O-O,Nd5,Nxd5,cxd5,Ne7,d4,Kh7,dxe5,dxe5,f4,exf4,Bxf4,f5,e5,g5,d6,Ng6,dxc7,Qxc7,Bd2,Nxe5,Bc3,Be6,Nd4,Bd7,Qc2,Qb6,Kh1,Kh8,Nxf5,Bxf5,Rxf5,Ng4,Raf1,Rxf5,Bxg7+,Kxg7,Qxf5,Nf6,Qe5,Rf8,Be4', 'Re8,Qxf6+,Qxf6,Rxf6,Kxf6', 'https://lichess.org/training/kWEjv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwePp', 'Rapid', 'Sambank', 1542, 'Paulista75', 1544, 'd4,e6,c4,d5,Nc3,dxc4,e4,Bb4,Bxc4,Bxc3+,bxc3,Ne7,Nf3,O-O,O-O,Nbc6,Bg5,h6,Bh4,Qd7,d5,exd5,exd5,Na5,Bb5,Qxb5,Bxe7,Re8,Re1,Bg4,Rb1,Qd7,Bb4,Rxe1+,Qxe1,Bxf3,gxf3,Qxd5,Bxa5,Qxa5,Rxb7,c6,Qe7,Rf8,Rxa7,Qxc3,Qe3,Qxe3,fxe3,Rc8,a4,c5,a5,c4,Kf1,c3,Rb7,Ra8,Rc7,Rxa5,Rxc3,Ra1+,Ke2,Ra2+,Kd3,Rxh2,f4,Rh1,e4,Rd1+,Ke3,g5,fxg5,hxg5,Kf3,Rh1,Rc5,Rf1+,Kg4,f6,Kh5,Kg7,Rc7+,Kf8,Kg6,Rf4,Rf7+,Ke8,Rxf6', 'Rxf6+,Kxf6,g4,Ke5,g3,Kd4,g2', 'https://lichess.org/training/kwePp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KwfQj', 'Classical', 'MGWPacman', 1738, 'Lord_Retro', 1758, 'd4,d5,c4,c6,e3,Nf6,Nf3,e6,cxd5,cxd5,Nc3,Bb4,Bd2,O-O,a3,Bd6,Bd3,a6,O-O,Nc6,e4,dxe4,Nxe4,Nxe4,Bxe4,e5,dxe5,Nxe5,Nxe5,Bxe5,Rb1,Bxh2+,Kxh2,Qh4+,Kg1,Qxe4,Re1,Qg6,Re3,Be6,Bc3,Rad8,Qc1,Bd5', 'Rg3,Qxg3,fxg3', 'https://lichess.org/training/KwfQj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KWGUA', 'Rapid', 'ebcsont', 1841, 'heeltydspeeltyd', 1746, 'c4,d6,e4,c6,d4,Nd7,Nc3,Qc7,d5,h6,Nf3,Ngf6,h3,g5,Nd4,Ne5,Be2,g4,dxc6,bxc6,hxg4,Nfxg4,Nf5,Nf6,O-O,h5,Bg5,Nfg4,f3,Bxf5,exf5,Qb6+,Kh1,Nf2+,Rxf2,Qxf2,Ne4,Qb6,f6,c5,fxe7,Bxe7,Qa4+,Qc6,Qd1,Rb8,Bxe7,Kxe7,Qd2,Rhg8,Qh6,h4,Qf6+,Kd7,Qf5+,Kc7,Nf6,Rg6,Nd5+,Kd8,f4,Rxb2,Bf1,Nxc4,Bxc4,Rgxg2', 'Qf6+,Kc8,Ne7+,Kc7,Nxc6', 'https://lichess.org/training/KWGUA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwH37', 'Rapid', 'KingPrawns', 1852, 'ferrucciolari', 1914, 'c4,Nf6,d4,c5,d5,b5,b3,g6,Bb2,Bg7,Nc3,b4,Nb1,O-O,Nf3,Bb7,e3,d6,Nbd2,a5,Bd3,a4,O-O,Qa5,h3,a3,Bc1,Nxd5,cxd5,Bxa1,Nc4,Qc7,Bxa3,Bg7,Bb2,Rxa2,Bxg7,Kxg7,e4,Nd7,Ng5,h6,Nf3,e6,Nh4,exd5,exd5,Nb6,Qb1,Raa8,f4,Nxd5,f5,Nc3,Qc1,Qe7', 'f6+,Qxf6,Rxf6', 'https://lichess.org/training/kwH37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kWIjD', 'Rapid', 'ck15d4', 1819, 'mirella13', 1858, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c6,Bg5,dxc4,e3,b5,h3,Be7,a4,Bd7,g4,b4,Na2,Ne4,Bf4,c3,bxc3,bxc3,Qc2,Nd2,Nxd2,cxd2+,Kxd2,c5,Bc4,cxd4,exd4,Nc6,Be3,Bf6,Nc3,Nxd4,Bxd4,Bxd4,f4,O-O,Ke2,Qh4,Raf1,Bc6,Rh2,Rfe8,Nb5,Bb6,Nd6,Red8,Ne4,Ba5,Kf3,Qe7,Kg3,Rab8,Ng5,g6,Rhf2,Rb4,Bb3,Bd5,Bxd5,Rxd5,Qc8+,Kg7,Qc2,Rd8,f5,exf5,gxf5,Rbd4', 'f6+,Qxf6,Rxf6', 'https://lichess.org/training/kWIjD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KWiVs', 'Rapid', 'renezent', 1627, 'Stokespeare', 1627, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Nd4,Nxd4,exd4,Ne2,Nxe4,d3,Nf6,Nxd4,c6,Ba4,Bc5,Be3,O-O,O-O,Qb6,Nf5,Bxe3,fxe3,d5,Ne7+,Kh8,d4,Bg4,Qc1,Rae8,Nf5,Bxf5,Rxf5,Ne4,c4,g6,Rf1,Qb4,Bb3,Nd2,a3,Qxb3,Qxd2,Rxe3,Rae1,Rxe1,Rxe1,Kg7,cxd5,Qxd5,Qb4,b6,Re5,a5,Qxb6,Rb8', 'Qxb8,Qxd4+,Kf1', 'https://lichess.org/training/KWiVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwJlF', 'Rapid', 'igrokqwe', 1640, 'sari-86', 1645, 'e4,c5,Bc4,Nc6,c3,Nf6,d3,d5,exd5,Nxd5,Qf3,e6,Nh3,Be7,Qg3,O-O,O-O,Bh4,Qg4,Ne5,Qe2,Nxc4,dxc4,Ne7,Na3,a6,f4,h6,Nf2,Ng6,Ne4,f5,Nxc5,Qd6,b4,Bd8,Kh1,Bc7,Qh5,e5,Rd1,Qf6,fxe5,Bxe5,Nd7,Bxd7,Rxd7,Rad8,Rxd8,Rxd8,Be3,Bxc3,Rf1,Kh7,Rxf5,Qxf5', 'Qxf5,Rd1+,Bg1', 'https://lichess.org/training/kwJlF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwjSP', 'Blitz', 'NM ShahxaibKhan', 2347, 'SHL1', 2386, 'e4,e6,d4,d5,Nd2,c5,Ngf3,cxd4,exd5,Qxd5,Bc4,Qd7,O-O,Nf6,Nb3,Nc6,Nbxd4,Nxd4,Qxd4,Qxd4,Nxd4,a6,Bb3,Bd7,Bg5,Be7,Rad1,h6,Bh4,Ne4,Bxe7,Kxe7,Rfe1,Nc5,Nf5+,Kf6,Ne3,Bc6,Bc4,Rhd8,a3,b5,Be2,Ke7,f3,Na4,Rb1,Rd2,Bd3,Nc5,Nf1,Nxd3,Nxd2,Nxe1,Rxe1,Rd8,Nb1,a5,Kf2,b4,axb4,axb4,Ke3,Ba4,b3,Bb5,Nd2,Rc8,Nc4,Bxc4,bxc4,Rxc4,Kd3,Rc6,Rb1,Rc3+,Kd2,Rc4,Rb3,Kd6,Kd3,Kd5,Rb1,e5,Re1,f5', 'Rxe5+,Kxe5,Kxc4', 'https://lichess.org/training/kwjSP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwJXx', 'Rapid', 'raznz_snasna', 1683, 'skoczek62', 1685, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Bg4,Ne5,Nxe5,Bb5+,c6,Bxc6+,bxc6,f3,Bh5,g4,Bg6,d4,Nd7,d5,cxd5,Qxd5,Ngf6,Qb5,e6,Bg5,Qc7,O-O-O,Bd6,Rd4,O-O,Rhd1,Rab8,Qa6,Nc5,Qxd6,Qb7,Qxc5,Qxb2+,Kd2,Qxc2+,Ke1,Rb2,Qxf8+,Kxf8', 'Rd8+,Ne8,Rxe8+,Kxe8,Rd8#', 'https://lichess.org/training/kwJXx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwKFK', 'Blitz', 'dougectsedex', 1680, 'Preetam_Raj', 1685, 'e4,a6,Nf3,c5,Bc4,d6,h3,e6,O-O,Be7,d4,cxd4,Nxd4,Nf6,Nc3,O-O,Re1,d5,exd5,exd5,Bb3,Bb4,Bd2,Nc6,Nxc6,bxc6,Bg5,Qd6,a3,Bxc3,bxc3,Ne4,Rxe4,Bf5,Re1,Qg6,Be7,Rfe8,Qf3,Be4,Rxe4', 'dxe4,Qxf7+,Qxf7,Bxf7+,Kxf7', 'https://lichess.org/training/kwKFK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KWKQI', 'Blitz', 'germanvolumetraining', 1725, 'abdoulhasip', 1722, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,Nf6,Bc4,O-O,f3,Bd7,Be3,Nc6,Nf5,Bxf5,exf5,Re8,Qd2,Ne5,O-O-O,Nxc4,Qd4,Nxe3,Qxe3,a6,g4,Bf8,Qf4,Nd7,g5,f6,g6,h6,Qc4+,Kh8,Nd5,c6,Nf4,d5,Qb3,Qb6,Qd3,Nc5,Qf1,Bd6,Nh5,Re5,Qg2,Rxf5,Qg4,Rg5,Qh4,Rxg6,Rhg1,Rxg1,Rxg1,Rg8,Nxf6,Na4', 'Qxh6+,gxh6,Rxg8#', 'https://lichess.org/training/KWKQI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KwkRM', 'Rapid', 'bastianmunz', 1843, 'mruknowwho', 1927, 'd4,d5,c4,e6,Nf3,Nf6,e3,Nbd7,cxd5,Nxd5,e4,N5b6,Be2,f5,exf5,exf5,O-O,Nf6,Ng5,Be7,Bh5+,g6,Be2,h6,Nf3,Be6,Ne5,Rg8,b3,c6,Ba3,Bxa3,Nxa3,Qd6,Nac4,Nxc4,bxc4,O-O-O,Qa4,Kb8,Nf3,g5,Rfd1,Qc7,Rab1,h5,Ne5,Bd7,Qb3,Rge8,Bf1,Ng4,Nxd7+,Rxd7,g3,h4,Qf3,Nxh2,Kxh2,hxg3+,fxg3,Rh7+,Kg1,f4,g4', 'Re3,Bg2,Rxf3', 'https://lichess.org/training/KwkRM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kwm0u', 'Rapid', 'Ahmed557', 2036, 'Sibinjose1912', 2024, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,Ne2,d6,h3,a6,Nbc3,Nb4,Bb3,Be6,d3,Bxb3,axb3,Nxc2+,Kd1,Nxa1,Bg5,Bg7,Nd5,O-O,Nxf6+,Bxf6,Bxf6,Qe8,d4,Qe6', 'd5,Qxf6,Qxf6', 'https://lichess.org/training/Kwm0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KWMlS', 'Rapid', 'JesseBlue', 1873, 'BillDerr', 1826, 'e4,c6,d4,d5,Nd2,a6,Ngf3,Bg4,Be2,h6,h3,Bxf3,Bxf3,e6,O-O,Nd7,c3,Bd6,e5,Bb8,Re1,c5,Nf1,Ne7,Ng3,Ng6,Nh5,Rg8,b3,Qc7,Bg4,Nh4,f4,g6,Nf6+,Nxf6,exf6,Qd8,Bxe6,Qxf6,Bxd5+,Kf8,dxc5,Bxf4,Bxf4,Qxf4,Rf1,Qe3+,Kh1,Nf5,Qf3,Ng3+,Qxg3,Qxg3,Bxf7,Kg7,Rad1,Raf8,Rd7,Rxf7', 'Rfxf7+,Kh8,Rh7#', 'https://lichess.org/training/KWMlS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwMqE', 'Rapid', 'Markitos444', 2133, 'JokubasD', 2105, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,c5,g3,Nc6,Bg2,Be7,O-O,O-O,Re1,Qc7,c3,Rd8,Qe2,Bd7,Nf1,Be8,Bf4,Qb6,e5,Nd7,Ne3,Qc7,Ng4,Nf8,Nf6+,gxf6,exf6,Bd6,Bxd6,Qxd6,Qe3,Ng6,h4,e5,h5,Qxf6,hxg6,hxg6,Nxe5,Nxe5,Qxe5,Qxe5,Rxe5,Bc6,Rae1,Kf8,Kf1,Re8,Bxd5,Rxe5,Rxe5,f6,Bxc6,fxe5,Be4,Kg7,b3,Rb8,Ke2,b5,Ke3,Kf6,c4,bxc4,dxc4,Rd8,Bd5,g5,Ke4,Rd6,f3,Ra6,b4,cxb4,c5,Ra5,c6,Rc5,g4,a5,f4,gxf4,g5+,Kxg5,Kxe5,Kg4,Kd6,Rxc6+', 'Bxc6,Kg3,Kc5', 'https://lichess.org/training/kwMqE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwn5m', 'Classical', 'pawn_f7', 1912, 'boerewors', 1915, 'd4,e6,Nc3,d5,Bf4,c5,e3,a6,Nf3,Nc6,Bd3,Nf6,O-O,cxd4,exd4,Be7,Ne2,Nb4,c3,Nxd3,Qxd3,O-O,Ne5,Bd7,Bg5,Bb5,Qf3,Ne4,Bxe7,Qxe7,Rad1,Nd6,Nf4,Bxf1,Rxf1,Nc4,Nxc4,dxc4,Qg4,h6,Nh5,Qg5,Qh3,Qf5,Qh4,Rad8,Ng3,Qg5,Qe4,Qd5,Qg4,b5,f4,f5,Qg6,Qd7,Qh5,Qf7,Qf3,Qe7,Re1,b4,Qh5,bxc3,bxc3,Qa3,Rxe6,Qc1+,Nf1,Qxf4,h4,Rd6,Qg6,Rxe6,Qxe6+,Kh7,Qxc4,Rb8,Qxa6,Rb1,Qd3,Qc1,Qxf5+,Kg8,Qd3,Ra1,d5,Rxa2,d6,Rd2', 'Qxd2,Qxd2,Nxd2', 'https://lichess.org/training/kwn5m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KwNWm', 'Rapid', 'Kimi2007', 1766, 'garmaew', 1861, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nc6,d4,e6,d5,exd5,Qxd5,Be6,Qxd8+,Rxd8,Bf4,Bd6,Bxd6,Rxd6,Bd3,a6,Ne4,Rd5,Bc4,Rh5,Bxe6,fxe6,a3,Nf6,Ned2,O-O,O-O-O,Rd5,c4,Rd3,Kc2,Rfd8,Rhe1,Kf7,Ng5+,Ke7,Rxe6+,Kf8,Ree1,R3d7,Ne6+,Kf7,Nxd8+,Rxd8,Kc3,Ng4,f3,Nf2,Rc1', 'Rd3+,Kc2,Nd4+,Kb1,Rxd2', 'https://lichess.org/training/KwNWm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KWoGn', 'Rapid', 'pfa1989', 1816, 'DrPacal', 1844, 'e4,e5,Nf3,Nc6,c3,d5,exd5,Qxd5,b3,Bg4,Bc4,Qe4+,Qe2,Qc2,O-O,O-O-O,Bxf7,e4,Bxg8,exf3,gxf3,Bh3,Be6+,Bxe6,Qxe6+,Kb8,b4,Bd6,Na3,Qd3,Qe4,Qxe4,fxe4,Ne5,d4,Nf3+,Kg2,Rdf8,e5,Be7,Be3,h5,Nc4,g5,Nd2,g4,Nxf3,Rxf3,Kh1,Rhf8,a4,Bh4,Ra2', 'Rxe3,fxe3,Rxf1+', 'https://lichess.org/training/KWoGn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KwP76', 'Classical', 'Zerk_Chris', 1704, 'ThePumpkinKing13', 1662, 'c3,e5,f3,Nf6,e4,d5,g3,dxe4,fxe4,Nxe4,Nh3,Bxh3,Bxh3,Bc5', 'Qa4+,c6,Qxe4', 'https://lichess.org/training/KwP76');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KwpeP', 'Blitz', 'WCM Estefani2020', 1761, 'KangarooDefense', 1763, 'g3,d5,Bg2,e5,d3,c5,Nd2,f5,e4,d4,f4,exf4,gxf4,fxe4,dxe4,Nc6,Nc4,b5,e5,Bd7,Be4,Qh4+,Kf1,bxc4,Qf3,Rc8,e6,Bxe6,Bxc6+,Kf7', 'f5,Nf6,fxe6+', 'https://lichess.org/training/KwpeP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KWPv3', 'Rapid', 'lil_besiktas', 1820, 'FudgedPickle', 1876, 'd4,e5,d5,d6,c4,Nf6,Nc3,Be7,e4,c6,Nf3,cxd5,cxd5,Bg4,Be2,Nbd7,h3,Bh5,O-O,Nc5,b4,Ncxe4,Nxe4,Nxe4,Qd3,Bg6,Qb5+,Qd7,Qxd7+,Kxd7,Be3,Nc3,Bc4,Be4,Rac1,Bxf3,gxf3,Na4,Bb5+,Kd8,Bxa4,a6,Rc2,b5,Bb3,Bh4,Bb6+,Ke7,Rc7+,Kf6,Rd7,Kf5,Rxd6,g5,Bc2+,Kf4,Be3+,Kxf3,Rf6+,Ke2,Bd1+,Kd3,Bb3,g4,Rxf7,gxh3,Kh2,Ke2,Rb1,Bd8,d6,Rg8,Kxh3,Kd3,d7,Ke4,Bc5,Rg6,f3+,Kd3,Be7,Bxe7,Rxe7,Ke3,Rxe5+,Kxf3,Rd1', 'Rh6+,Rh5,Rxh5#', 'https://lichess.org/training/KWPv3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kwqk4', 'Rapid', 'Chessmaster_9000', 1874, 'bba54', 1781, 'e4,d5,exd5,Nf6,Bc4,c6,dxc6,Nxc6,Bxf7+,Kxf7,Nc3,e5,d3,Bc5,Nf3,Re8,O-O,Kg8,h3,a6,Bg5,Qd6,Bxf6,Qxf6,Ne4,Qe7,c3,Bb6', 'Qb3+,Be6,Qxb6', 'https://lichess.org/training/Kwqk4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwRAz', 'Bullet', 'Dima2014', 1576, 'Muedir', 1567, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nc6,Bb5,Nf6,d4,Bd7,O-O,e6,Bg5,Be7,Re1,O-O,Ne4,a6,Nxf6+,Bxf6,Bxf6,Qxf6,Bxc6,Bxc6,c3,Bxf3,Qxf3,Qxf3,gxf3,Rfd8,Re5,Rd5,Rae1,Rad8,f4,c6,Kg2,g6,Kg3,Rxe5,fxe5,Rd5,h4,Rb5,Re2,Ra5,a3,Rb5,Kg4,Kg7,h5,Rd5,hxg6,hxg6,Kg5,c5,Re4,b6,b4,cxd4,cxd4,a5,bxa5,Rxa5,Re3,Ra4,Rd3,Rc4,Kf4,b5,Ke3,b4,a4,b3,a5', 'b2,Rb3,Rc3+,Rxc3,b1=Q', 'https://lichess.org/training/kwRAz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KWrBN', 'Classical', 'DomingoRemga', 1957, 'tipsytun', 2191, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Nc3,Bb4,Bd2,O-O,Bc4,Re8,Nf3,Bxc3,Bxc3,Rxe4,Bxf7+,Kxf7', 'Ng5+,Kg8,Nxe4,Nxe4,Qxe4', 'https://lichess.org/training/KWrBN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KwReV', 'Rapid', 'jana01', 1784, 'Zimboy', 1839, 'd4,Nf6,Bf4,c6,e3,Qa5+,c3,e6,Nd2,d5,Bd3,Be7,Ngf3,Nbd7,h4,Nh5,Bh2,O-O,Ne5,f6,Nxd7,Bxd7,Qxh5,f5,Nf3', 'Be8,Qg5,Bxg5', 'https://lichess.org/training/KwReV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwRGu', 'Rapid', 'phantom355', 1895, 'Elograbber', 1773, 'Nc3,Nf6,d4,e6,e4,Be7,Nf3,O-O,Be2,d6,O-O,b6,Be3,Bb7,d5,e5,Nb5,a6,Nc3,Nbd7,a3,Rc8,h3,Nc5,Nd2,c6,dxc6,Bxc6,Bxc5,bxc5,Bxa6,Rb8,b3', 'Qa5,Bd3,Qxc3', 'https://lichess.org/training/kwRGu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kwri6', 'Blitz', 'davod42', 1651, 'adi_24', 1701, 'e4,e5,d3,d6,Nc3,Nf6,f4,Nc6,f5,g6,fxg6,fxg6,Nf3,Be7,Be2,O-O,O-O,Ng4,a3,Nd4,Nxd4,exd4,Nd5,c6,Nxe7+,Qxe7,Bxg4,Rxf1+,Kxf1,Bxg4,Qxg4,Rf8+,Kg1,Qf7,Bg5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/Kwri6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kWriu', 'Rapid', 'Ludmilla', 2284, 'oknetwork', 1974, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d6,b3,Bg4,d3,Nf6,Nbd2,e6,Bb2,Be7,h3,Bxf3,Nxf3,O-O,e5,Nd5,exd6,Bxd6,Be5,a5,a4,Nb4,Qd2,Bxe5,Nxe5,Qc7,Rfe1,Rad8,Qe2,f6,Nc4,e5,Rac1,Nd5,Qg4,Rfe8,Ne3,Nxe3,Rxe3,Qd6,Rce1,Qd4,Re4,Qc3,Qe2,Rd4,Qd1,Red8,Qe2,Rxe4,dxe4,Rd2,Qg4,Qxc2,Qe6+,Kf8,Qc8+,Kf7,Qb7+,Kg6,Re3,Rd3,Rxd3,Qxd3,Qxc6,Qxb3,Qxc5,Qxa4,Qd5,Qd4,Qc6,a4,g4,a3', 'Qe8+,Kg5,Qh5+,Kf4,Qf5#', 'https://lichess.org/training/kWriu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kWSD8', 'Blitz', 'NM El_Nica', 2363, 'nemesisaj', 2407, 'e4,e5,Nc3,Nf6,Bc4,Nc6,d3,Bc5,f4,exf4,Bxf4,O-O,Nf3,d5,Nxd5,Nxd5,Bxd5,Qf6,Qc1,Bg4,Rf1,Nb4,Bb3,a5,Ne5,Be6,Bg3,Qe7,Bxe6,Qxe6,a3,Bd6,axb4,Bxe5,Bxe5,Qxe5,bxa5,Qxh2,Qd2,Qg3+,Qf2,Qe5,c3,Rxa5,Kd2,Rb5', 'Qxf7+,Rxf7,Ra8+,Qe8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/kWSD8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KwTCJ', 'Rapid', 'Badcop899', 1727, 'fereidoon', 1780, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Ne2,Qb6,c3,Be7,Qc2,cxd4,Nexd4,Bc5,Be3,O-O,Bd3,f5,exf6,Nxf6,Bf2,Bd7,O-O,Rac8,Rad1,Bxd4,Bxd4,Nxd4,Nxd4,Rc7,Kh1,Rfc8,Qe2,Rf8,f5,exf5,Nxf5,Bc6,Qe6+,Rcf7,Ne7+,Kh8,Rxf6,Rxf6,Qh3,Qf2', 'Qxh7#', 'https://lichess.org/training/KwTCJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwtwa', 'Rapid', 'SASADDIK', 1850, 'GalahaD_7', 1873, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,Nf6,Bc4,e6,O-O,Qc7,Nb5,Qb8,e5,Nxe5,Nxe5,Qxe5,Re1,Qb8,Bg5,a6,Nc3,Be7,Bxf6,Bxf6,Nd5,Be5,Nb6,Bxh2+,Kf1,Qf4,Nxa8,Qxc4+,Qe2,Qb4,g3,b6,Nc7+,Kd8,Rac1,Bb7,Qc4,Qxb2,Nxa6,Bxg3,fxg3', 'Qg2#', 'https://lichess.org/training/kwtwa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kWuhj', 'Rapid', 'IRANPARS', 1674, 'totorina', 1717, 'd4,d5,Nf3,c6,e3,Bf5,Bd3,Bg6,O-O,e6,Ne5,Ne7,f4,Nf5,Nf3,Be7,Bxf5,Bxf5,Nc3,Nd7,Re1,Nf6,a4,c5,Bd2,cxd4,Nxd4,Bg6,Rf1,O-O,f5,exf5,Nxf5,Qd7,Nxe7+,Qxe7,Qf3,Bxc2,Nxd5,Nxd5,Qxd5,Rad8,Qc4,Rxd2,Rac1,Qxe3+,Kh1,Bd3', 'Qxf7+,Rxf7,Rc8+,Qe8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/kWuhj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KwvRo', 'Rapid', 'Lord_Ibrah', 1641, 'One2Four', 1635, 'e4,e5,d4,exd4,Bc4,Nc6,c3,Nf6,cxd4,Bb4+,Nc3,O-O,Qc2,Nxd4,Qd3,c5,Bg5,Re8,O-O-O,h6,Be3,Bxc3,bxc3,b5,Bd5,Nxd5,exd5,Qa5,cxd4,Ba6,dxc5,Qxa2,Qb1,Qa3+,Qb2,b4,Qxa3,bxa3,Rd2,d6,c6,Rab8,Nf3,Re4,Nd4,Re5,Nc2', 'a2,Na1,Rb1+,Kc2,Rxh1', 'https://lichess.org/training/KwvRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kWVXS', 'Rapid', 'domingo5', 1706, 'wheresmybelt', 1750, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Bg5,Be7,h4,Bg4,Bxe7,Ngxe7,Nbd2,Nf5,Ng5,Nxe5,f3,Nxh4,Nde4,Nxc4,Qa4+,Qd7,Qxc4,Nf5,Nc5,Qd6,Qxf7+,Kd8,Nge6+,Kc8,fxg4,Qg3+,Kd1,Ne3+,Kd2,Nc4+,Kc2,Ne3+,Kb3,Nxf1+,Nd3,Nd2+,Ka4,b5+,Kb4,Qd6+,Ndc5', 'a5+,Ka3,b4+,Ka4,Qc6#', 'https://lichess.org/training/kWVXS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kWXLJ', 'Rapid', 'kyutepotato', 1938, 'TCrown7', 1954, 'e4,c6,b3,d5,exd5,cxd5,Bb2,Bf5,Nf3,e6,Be2,Nf6,O-O,Be7,d3,Nc6,Nbd2,O-O,c4,Qc7,d4,Rac8,Rc1,b6,cxd5,Nxd5,Ne5,Qb7,Ndf3,Nxe5,Nxe5,f6,Nf3,Bg6,Bd3,Bxd3,Qxd3,Rc6,Rxc6,Qxc6,Rc1,Qd6,Qb5,Qf4,Qd7,Kf7,Re1,Qd6,Qxa7,Rd8,Nd2,Qb4,Nf3,Rc8,Qd7,Rd8,Qxe6+,Kf8,Rc1,Nf4,Qe3,Nd5,Qe1,Qb5,Nd2,Nf4,Qe3', 'Ne2+,Kh1,Nxc1', 'https://lichess.org/training/kWXLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kwyUB', 'Blitz', 'ricorsivo', 1971, 'catharaxie', 2011, 'Nf3,Nf6,c4,g6,g3,Bg7,Bg2,d6,O-O,e5,d3,c6,Nc3,Be6,Rb1,Qd7,Qc2,Na6,a3,h6,Re1,Bh3,Bh1,Ng4,b4,f5,b5,Nc5,bxc6,bxc6,Na4,Ne6,Qb3,e4,Nh4,O-O,Qb7,Qxb7,Rxb7,g5,Ng6,exd3,exd3,Bd4,Be3,Bxe3,fxe3,Rf7,Ne7+,Kh8,Bxc6,h5,Bd5,Rf6,Nc6,Nc5,Nxc5,dxc5,Na5,Re8,e4,fxe4,Bxe4,Rf2,Rh7+,Kg8,Rxh5,Rg2+,Kf1,Rxh2+,Kg1', 'Rg2+,Bxg2,Rxe1+,Bf1,Rxf1#', 'https://lichess.org/training/kwyUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KWZM7', 'Rapid', 'Radikname', 1836, 'mahmoudmaher0077700', 2005, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,c4,c6,Nc3,Be7,Be2,Bf5,Nh4,Bg6,Nxg6,fxg6,cxd5,Nxd5,Nxd5,cxd5,Bb5+,Nc6,Qc2', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/KWZM7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kX1N8', 'Blitz', 'espaeza72esc', 2151, 'markusschirmbeck', 2149, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,Qb3,Nh6,d4,Na5,Qa4,Nxc4,Qxc4,exd4,Bxh6,gxh6,cxd4,d6,e5,Bf5,Qb5+,Qd7,Qxb7,O-O,O-O,Rfb8,Qa6,Rb2,Nc3,c5,Nd5,dxe5,Nxe7+,Qxe7,dxe5,Be4,Qxh6,Bxf3,gxf3,Qxe5,Kh1,Kh8,Rg1,Rxf2,Rae1,Qb2,Rg3,Rd8,Reg1,Qe5,Qxh7+,Kxh7', 'Rh3+,Qh5,Rxh5#', 'https://lichess.org/training/kX1N8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kx2C4', 'Rapid', 'babacahit', 1843, 'Htroid', 1994, 'e4,e5,Nf3,Nc6,Be2,Nf6,Nc3,Bb4,d3,d6,O-O,Nd4,Bg5,Bxc3,bxc3,Nxe2+,Qxe2,h6,Bh4,Bg4,h3,Bh5,g4,Bg6,Nd2,Qd7,f3,h5,Bxf6,gxf6,d4,hxg4,hxg4,O-O-O,a4,Rdg8,a5,a6,Rab1,Rg7,dxe5,fxe5,Qe3,Rgh7,Qa7,Rh1+,Kf2,R8h2+,Ke3,Qc6,Rxh1', 'Qxc3#', 'https://lichess.org/training/kx2C4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kX3Oz', 'Rapid', 'MR-Incognito', 2208, 'borifil', 2150, 'd4,Nf6,Bf4,g6,e3,b6,Nd2,Bb7,Ngf3,Bg7,c3,O-O,Bd3,d6,Qc2,Nbd7,O-O-O,c5,h4,cxd4,exd4,Rc8,h5,Nd5,Be3,Nb4,Qb1,Nxd3+,Qxd3,e5,hxg6,fxg6,Ng5,exd4,Rxh7,dxe3,Qxg6,exd2+,Rxd2,Qf6', 'Rh8+,Kxh8,Qh7#', 'https://lichess.org/training/kX3Oz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kx3W9', 'Blitz', 'Larim', 1797, 'sums', 1688, 'e4,c5,Nc3,Nc6,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Bd3,e6,Be3,Ne7,O-O,d5,exd5,cxd5,Bc5,Qc7,Bb5+,Bd7,Bxd7+,Qxd7,h3,Rc8,Ba3,Bxc3,bxc3,O-O,c4,Rxc4,Rb1,Rfc8,Bb2,Rxc2,Qd4,Rxb2,Rxb2,Rc4,Qf6,Nf5,Rfb1,Nd4,Rb7,Rc7,Rxa7,Ne2+,Kh1,Qc8,Rxc7,Qxc7,Rb2', 'Qc1+,Kh2,Qg1#', 'https://lichess.org/training/kx3W9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KX5AP', 'Rapid', 'Brutusss999', 1845, 'Mikko56', 2180, 'e4,Nf6,d3,e5,Nf3,Nc6,b3,d5,exd5,Nxd5,Bb2,Bb4+,c3,Bd6,Nbd2,O-O,h3,Re8,Ne4,f5,Nxd6,cxd6,Be2,e4,dxe4,fxe4', 'Qxd5+,Be6,Qxe4', 'https://lichess.org/training/KX5AP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KX5Ja', 'Rapid', 'Samarth_34', 1951, 'OSCARPOV_1', 2000, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Bb5,Bd7,Bxc6,bxc6,O-O,Nf6,Nc3,Be7,Qf3,O-O,e5,dxe5,Nxc6,Bxc6,Qxc6,Rb8,Rd1,Bd6,b3,Rb6,Qc4,Rb4,Qc6,Qc8,Ba3,Rd4,Bxd6,cxd6,Qxc8,Rxc8,Rxd4,exd4,Ne2,Rxc2,Nxd4,Rd2,Nf3,Rd3,Kf1,h6,Ke2,Rc3,Kd2,Rc5,Re1,d5,Re7,Ne4+,Kd3,Nxf2+,Kd4,Ra5,Ne5,Rxa2,Kxd5,Ra5+,Kd4,f6,Ng6,Ng4,h4,h5,Nf4,Ne5,Kc3,Nc6,Rc7,Rc5+,Kb2,Rf5,Ne6,Ne5,Rxg7+,Kh8,Rxa7,Rf2+,Ka3,Rxg2,Nf4,Rg4,Nxh5,Rxh4,Nxf6,Rh3,Ka2,Rh2+,Ka3,Rh3,Ka4,Rh4+,Kb5,Rb4+,Kc5,Rxb3', 'Rh7#', 'https://lichess.org/training/KX5Ja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kX8cm', 'Blitz', 'pimk8', 1606, 'NiK_the_TRoll', 1782, 'e4,d6,Nf3,Nf6,Nc3,g6,Bc4,Bg7,d4,O-O,O-O,Nfd7,h3,Nc6,Be3,e5,d5,Ne7,Bd3,f5,Nh2,f4,Bd2,g5,f3,h5,Qe1,Nf6,Ne2,Qe8,c4,Qg6,b4,g4,fxg4,hxg4,hxg4,Bxg4,Nxg4,Nxg4,Nxf4,exf4,e5,Bxe5,Bxg6,Bd4+,Kh1,Kg7,Bc3', 'Rh8+,Bh5,Rxh5+,Qh4,Rxh4#', 'https://lichess.org/training/kX8cm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kx9DE', 'Rapid', 'CarlDela3', 1939, 'SINUS55', 1777, 'e4,e5,Bc4,Nc6,Nf3,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Ng5,Nh6,Qb3,Na5,Bxf7+,Kf8,Qf3,Qf6,Qxf6', 'gxf6,Bh5,fxg5', 'https://lichess.org/training/Kx9DE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KX9YD', 'Rapid', 'KarpArrow', 1906, 'SemkivBohdan', 1867, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,g6,Nf3,Bg7,Qb3,O-O,Nc3,Nc6,Ng5,e6,d5,exd5,Nxd5,Nxd5,Bxd5,Qxg5,O-O,Na5,Qb5,c6', 'Bxf7+,Rxf7,Qxg5', 'https://lichess.org/training/KX9YD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KXa1R', 'Rapid', 'CauaLima', 1795, 'yoyoyowhatsgood', 1738, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nc6,Nxc6,bxc6,Be3,Nf6,Na4,e6,e5,Nd5,Qd3,Nxe3,fxe3,d5,e4,Qh4+,g3,Qg5,exd5,cxd5,Nb6,Qxe5+,Be2,Rb8,Nxc8,Rxc8,Qxa6,Rxc2', 'Qa4+,Kd8,Qxc2', 'https://lichess.org/training/KXa1R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kxaSe', 'Rapid', 'nawaznawaz', 1665, 'trahan7x7', 1739, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bb5,d6,Nd5,Bd7,O-O,Nxd5,exd5,Ne7,Qe2,Nxd5,d4,c6,Bc4,Be7,dxe5,dxe5,Nxe5,O-O,Nxd7,Qxd7,Be3,Bf6,c3,Rfe8,Rad1,Qf5,Bd3,Qd7,Qc2,Nxe3,Qd2,Nxf1', 'Bxh7+,Kxh7,Qxd7', 'https://lichess.org/training/kxaSe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kXbY8', 'Rapid', 'CaptainSmollet', 1648, 'Baazi_gar_X', 1659, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Ng5,Bc5,Bxf7+,Ke7,O-O,h6,d4,Bxd4,c3,Bc5,b4,Bb6,Bb3,hxg5,Bxg5,d6,Qd5,Qd7', 'Qf7+,Kd8,Bxf6+,gxf6,Qxf6+,Ne7,Qxh8+', 'https://lichess.org/training/kXbY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KXc4c', 'Blitz', 'FM HooCee', 2485, 'hasan90', 2318, 'e4,c5,Nc3,d6,f4,Nc6,Nf3,Bg4,Bc4,Bxf3,Qxf3,Nf6,d3,a6,a4,Qc7,O-O,g6,Kh1,Bg7,Qh3,O-O,f5,Nd4,Bh6,Rab8,fxg6,hxg6,Bg5,b5,axb5,axb5,Bd5,b4,Bxf6,Bxf6,Nd1,Nxc2,Rc1,Nd4,Ne3,Bg7,Rf2,e6,Bc4,Ra8,Rcf1,Qe7,Ng4,Rad8,Nh6+,Bxh6,Qxh6,d5,Rf4,dxc4,Rh4,Qxh4,Qxh4,cxd3,Rd1,c4,e5,Ne2,Qxc4,Rd5,Rxd3,Nf4,Rxd5,Nxd5,h3,Kg7,Qd4,Ra8,Kh2,Ra1,Qe4,Ra8,Kg3,Rg8,Kg4', 'f5+,exf6+,Nxf6+', 'https://lichess.org/training/KXc4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KxeX9', 'Rapid', 'Docfire2', 1604, 'SadPandaIsCold', 1633, 'e4,e6,Nf3,c5,d4,Ne7,dxc5,Ng6,g3,Bxc5,Qe2,Qb6,Nc3,Nc6,Na4,Qa5+,Nc3,Bb4,Bd2,Nge5,a3,Nxf3+,Qxf3,Nd4,Qd3,e5,Bg2,Be7,Nd5,Qd8,O-O,O-O,f4,Bc5,Kh1,d6,b4,Bb6,a4,a5,c3,Nb3,Rab1,Nxd2,Qxd2,Bd7,b5,Bc5,fxe5,dxe5,Rbd1,Be6,c4,Qc8,Rf2,Rd8,Rdf1,Bb4,Qg5,Rf8,Qxe5,Bc5,Qg5,Bxf2', 'Ne7+,Kh8,Nxc8', 'https://lichess.org/training/KxeX9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kXIHd', 'Blitz', 'KanyeWest2024', 1578, 'mobbich', 1507, 'd4,Nf6,e3,g6,Bd3,Bg7,f4,d6,Nf3,c5,c3,Nc6,O-O,a6,Bc2,b5,Nbd2,Bb7,b3,O-O,Qe1,e6,Bb2,a5,Qh4,Nd5,Ng5,h6,Ndf3,Nxe3,Rf2,Nf5,Bxf5,exf5,d5,Ne7,c4,Kh8,Bxg7+,Kxg7,Re1,Ng8,Rfe2,Qd7,Re7,Nxe7,h3,Rh8,Nxf7,Kxf7,Ne5+,dxe5,fxe5,Kg7,e6,Qd6,g4,Qf4', 'Qxe7+,Kg8,Qf7#', 'https://lichess.org/training/kXIHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KxITS', 'Rapid', 'gala22', 2029, 'Casr', 2004, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bf5,Nc3,Nf6,Bd3,Bxd3,Qxd3,Nc6,Bg5,e6,O-O,Be7,a3,O-O,Rae1,a6,h3,Rc8,Ne2,Na5,Ne5,Ne4,Bxe7,Qxe7,f3,Nd6,b3,Nf5,b4,Nc6,Kh2,Qd6,f4,Nce7,c4,dxc4,Nxc4,Qd8,Rc1,b5,Ne5,Qd5,Rc5,Qb7,Qf3,Qxf3,Rxf3,Rfd8,Rfc3,Nd6,Nc6,Nxc6,Rxc6,Kf8', 'Rxd6,Rxd6,Rxc8+', 'https://lichess.org/training/KxITS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kxL4E', 'Blitz', 'Pietro_Mosca', 1564, 'Mr_47', 1585, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,d6,Nc3,Nc6,Be3,Nf6,Qd2,a6,f3,Qc7,O-O-O,Nxd4,Bxd4,Be7,g4,b5,Kb1,b4,Na4,Qa5,Nb6,Rb8,Nxc8,Rxc8,g5,e5,gxf6,Bxf6,Be3,Ke7,Bg5,Rhd8,Bxf6+,Kxf6,Rg1,Qc5,Rc1,b3,axb3,a5,Ba6,Ra8,Bb7,Rab8,Bd5,a4,Qg2,g6,h4,axb3,Qg5+,Kg7,c3,Rb5,Qxd8,Ra5,Qe7', 'Ra1+,Kxa1,Qa5+,Kb1,Qa2#', 'https://lichess.org/training/kxL4E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KxlAl', 'Rapid', 'chessman04', 1849, 'GoryachevD', 1851, 'e4,d5,exd5,Nf6,Nf3,c6,dxc6,e6,cxb7,Bxb7,Nc3,Bd6,Bb5+,Nbd7,O-O,O-O,d4,Nd5,Bxd7,Qxd7,Ne5,Qc7,Nb5,Qe7,Nxd6,Qxd6,c4,Ne7,Bf4,Qb4,a3,Qb6,Nd7', 'Qc6,d5,Qxd7', 'https://lichess.org/training/KxlAl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kXlDH', 'Blitz', 'shunev', 1816, 'vuanhdung0818', 1814, 'f4,d5,d4,e6,Nf3,Nf6,e3,Be7,Bd3,a6,O-O,b5,a3,c5,c3,c4,Bc2,Nbd7,Qe1,Bb7,Qg3,O-O,Ng5,Nh5,Bxh7+,Kh8,Qh4,Bxg5,fxg5,g6,Bxg6,fxg6,Rxf8+,Qxf8,Nd2,Kg7,Nf3,Qh8,Qg4,Re8,Bd2,Bc8,Rf1,e5,dxe5,Nxe5,Qd4,Kh7,Qxd5,Nxf3+,Rxf3,Rd8,Rf7+,Ng7,Qe4,Rxd2', 'Qh4+,Kg8,Rf8+,Kxf8,Qxh8+', 'https://lichess.org/training/kXlDH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KXlsY', 'Rapid', 'Philmarco', 1837, 'creeperland', 1770, 'Nf3,d5,c4,d4,e3,c5,exd4,cxd4,b4,a6,d3,Nc6,a3,Bg4,Nbd2,e5,Be2,Bd6,O-O,Nf6,Qb3,O-O,c5,Bc7,Nc4,Re8,Bg5,h6,Bxf6,Qxf6,h3,Bh5,Ncd2,Qf4,Ne4,Bg6,Nfd2,Kh8', 'g3,Qf5,Bg4', 'https://lichess.org/training/KXlsY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KxmQ8', 'Rapid', 'trbty', 1760, 'ChessKidCO', 1912, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bd3,Nf6,O-O,h6,Nc3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,Re1,e4,Ne2,Bd6,c3,Qf5,Ng3,Bxg3,fxg3,O-O,Rf1,Qe6,Be3,Ng4,Bd4,Rae8,Rf4,f5,h3,g5,Rf1,Nf6,Qe2,g4,h4,Nh5,Qe3,Qd6,Kh2,Rc8,Rf2,f4,gxf4', 'g3+,Qxg3+,Nxg3', 'https://lichess.org/training/KxmQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kXN9r', 'Blitz', 'fanatron', 1776, 'avakar', 1702, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,d3,O-O,O-O,d6,Re1,Bg4,h3,Bxf3,Qxf3,a6,Be3,b5,Bb3,Na5,Bc2,c5,b4,cxb4,cxb4,Nc6,a3,Rc8,Nd2,Nd4,Bxd4,Rxc2,Be3,d5,Rec1,dxe4,dxe4,Rxd2,Bxd2,Qxd2,Rd1,Qf4,Qc3,Nxe4,Qc7,Qxf2+,Kh1,Bh4,Qxe5,Ng3+,Kh2,f6,Qe6+,Kh8,Qe7,Rg8,Rd8,Nf1+,Rxf1', 'Bg3+,Kh1,Qxf1#', 'https://lichess.org/training/kXN9r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kxnp1', 'Rapid', 'trickster77', 2100, 'emadroshdy', 2110, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,Be7,Qb3,O-O,Be2,b6,O-O,Bb7,d4,exd4,exd4,d5,c5,Na5,Qa4,c6,b4,Nc4,Qb3,b5,a4,a6,Bg5,h6,Bh4,Ne4,Bxe7,Qxe7,Bxc4,bxc4,Qc2,Nxc3,Qxc3,f6,Rfe1,Qf7,Rab1,Rfe8,b5,axb5,axb5,Rxe1+,Qxe1,cxb5,Rxb5,Re8,Qb1,Bc8,Nh4,g5,Nf3,Bg4,Rb7,Re7,Rb8+,Kg7,Nd2,Qg6', 'Rg8+,Kxg8,Qxg6+', 'https://lichess.org/training/Kxnp1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KxNYO', 'Blitz', 'MARSKY2019', 1652, 'chienhjhj', 1613, 'e4,c5,Bc4,d6,d3,a6,Bf4,a5,a3,Bd7,Nc3,Nf6,Nd5,Nxd5,Bxd5,Ra7,Qh5,e6,Bb3,b5,c4,a4,Bc2,bxc4,dxc4,Qf6,Bc1,Nc6,Nf3,Nd4,Nxd4,cxd4,O-O,Bc6,f3,e5,Bg5,Qe6,b3,axb3,Bxb3,Ba4,Ba2,Bc6,Rab1,Rxa3,Rb8+,Kd7,Rd8+,Kc7,Rb1,f6,Rbb8,Rxa2,Rdc8+,Kd7,Rd8+,Ke7,Bh4,Ra1+,Kf2,Ra2+,Kg3,d3,Rbc8,Bd7', 'Re8+,Bxe8,Qxe8#', 'https://lichess.org/training/KxNYO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kXOCW', 'Rapid', 'shisha25', 1948, 'softspicyjoker', 1760, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be6,e3,Bb4,Bd3,c5,dxc5,Bxc5,Qb3,Bb6,Qc2,h6,Bh4,Nc6,a3,Rc8,Qb1,O-O,Nge2,d4,exd4,Nxd4,Bg3,Qd7,O-O,Rfd8,Rd1,Qe7,Be5,Nb3,Bxf6,Qxf6,Ne4,Qe7,N2g3,Nxa1,Qxa1,Rd4,b4,Rcd8,Nh5,g6,Nhf6+,Kf8,Nh7+,Kg8,Nef6+,Kg7,h3,Rh8,Be2,Qd6,Bf1,Rxd1,Nh5+,Kxh7', 'Qg7#', 'https://lichess.org/training/kXOCW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KXooo', 'Rapid', 'simis2011', 1992, 'agusbon3212', 1757, 'c4,e5,Nc3,Nf6,g3,Nc6,Bg2,Bc5,d3,d6,a3,a5,Nf3,O-O,O-O,h6,b3,Bg4,Bb2,Qd7,Re1,Bh3,Bh1,Ng4,e3,f5,d4,exd4,Nxd4,Nce5,Nd5,c6,Nf4,Bxd4,exd4,Nf7,Nxh3,d5,Nf4,g5,Nd3,Rad8,Ne5,Nfxe5,dxe5,d4,h3,Nxf2,Kxf2,d3,Qh5,d2,Qg6+,Qg7,Qxg7+,Kxg7,e6+,Kg8,e7,dxe1=Q+,Rxe1,Rd2+,Ke3,Rxb2,exf8=Q+,Kxf8,Kd4,Rxb3,Re3', 'c5+,Kxc5,Rxe3', 'https://lichess.org/training/KXooo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kxPuK', 'Rapid', 'Franchess111', 1772, 'bor123', 1724, 'g3,Nc6,Bg2,b6,c4,Bb7,Nc3,Rb8,Nf3,h6,O-O,e6,d4,Bb4,Bd2,Nge7,a3,Bxc3,Bxc3,O-O,e4,d5,exd5,exd5,c5,Re8,cxb6,cxb6,Ne5,f6,Nxc6,Bxc6,Qg4,Bd7,Qh5,Qc8,Bxd5+,Nxd5,Qxd5+,Be6,Qf3,Bg4,Qf4,Bh3,Rfe1,Qc6,Rxe8+', 'Rxe8,d5,Qxd5', 'https://lichess.org/training/kxPuK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KXQEn', 'Rapid', 'kostya-2007', 1917, 'gbpackerfan', 2115, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nb5,d6,Bf4,e5,Be3,Nf6,N1c3,a6,Na3,b5,Nd5,Rb8,Bg5,Be7,Bxf6,Bxf6,c3,O-O,Nc2,Be6,Nce3,Bxd5,Nxd5,Ne7,Nxf6+,gxf6,Be2,d5,Qc2,Qc7,exd5,Nxd5,Qf5,Nf4,Bf3,Qc4,O-O-O,Qxa2,Be4,Ng6,Qxf6,b4,Bb1,Qa1,c4,b3,Qd6,Rbc8,c5,Qa5,Rd5,Qc7,Qxc7,Rxc7,Kd2,Rfc8,Bxg6,hxg6,Rc1,f6,Rc3,Kf7,Rxb3,Rxc5,Rxc5,Rxc5,Rb7+,Ke6,Rb6+,Kf5,Rxa6,Rd5+,Ke3,Rb5,Ra2,Rb3+,Ke2,Kf4,g3+,Kf5,Kd1,Kg4,h4,Kf3,Ra3', 'Rxa3,bxa3,Kxf2', 'https://lichess.org/training/KXQEn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kxqoL', 'Classical', 'nimzo76', 1819, 'HUFU', 1865, 'e4,e5,Nf3,d6,d4,f6,dxe5,dxe5,Qxd8+,Kxd8,Bc4,Bg4,Nbd2,Bd6,h3,Bxf3,Nxf3,Ne7,Be3,Nd7,O-O-O,Nb6,Bb3,Kd7,a4,Nc6,Nh4,g6,g4,Rad8,g5,Ke7,gxf6+,Kxf6,Rhg1,Be7,f4,Rxd1+,Rxd1,Kg7,Nf3,exf4,Bxf4,Rf8,Bg5', 'Rxf3,Bxe7,Nxe7', 'https://lichess.org/training/kxqoL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kXQxA', 'Blitz', 'ffrango', 1951, 'aman21', 1910, 'c4,e6,d4,d5,Nc3,Nf6,Bg5,c6,e3,Bb4,Bd3,Qa5,Bxf6,Bxc3+,bxc3,Qxc3+,Kf1,gxf6,cxd5,exd5,Ne2,Qa5,Nf4,Na6,Qh5,Nb4,Bxh7,Qa6+,Kg1,Nc2,Ng6,Rxh7,Qxh7,Nxa1', 'Qg8+,Kd7,Qxf7+,Kd6,Qe7#', 'https://lichess.org/training/kXQxA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KXR4a', 'Rapid', 'ludoman', 2207, 'MedinoBrdo', 2068, 'd4,g6,Bf4,Bg7,e3,d6,c3,c6,Nd2,Nf6,Be2,Bf5,h4,h6,Qb3,Qc7,O-O-O,Nbd7,f3,O-O-O,g4,Be6,Bc4,Bxc4,Nxc4,Nd5,Ne2,Nxf4,Nxf4,d5,Nd2,g5,Nd3,e6,Qa3,Kb8,hxg5,hxg5,Qe7,Nf6,Qb4,Rhe8,Nc5,Bf8', 'Na6+,Kc8,Nxc7', 'https://lichess.org/training/KXR4a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kXrcV', 'Classical', 'UccellinoNonVola', 1854, 'Delcio_15', 1892, 'd4,e6,Nf3,Nf6,Bf4,Nc6,e3,b6,Nbd2,Bb7,Be2,d5,c3,Bd6,Ne5,O-O,c4,dxc4,Ndxc4,Bb4+,Nd2,Nxe5,dxe5,Bxg2,Rg1,Ne4,Rxg2,Nxd2,Bh6,Nb1+', 'Kf1,Nd2+,Kg1', 'https://lichess.org/training/kXrcV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kXROU', 'Rapid', 'Chillkroete77', 2287, 'TBajpai', 2073, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a3,e5,Nf5,Bxf5,exf5,d5,Bg5,d4,Ne4,Be7,Bxf6,Bxf6,Bd3,Nd7,O-O,O-O,Qf3,Qe7,Rad1,Nc5,Nxc5,Qxc5,Rfe1,Rfe8,a4,Rab8,g4,h6,Qg3,Qb4,b3,Qa5,Kg2,Qd8,Qf3,b5,axb5,axb5,Ra1,Re7,Ra6,Re8,Rea1,e4,Bxe4,d3,Bxd3,Bxa1,Rxa1,Qb6,h4,Qb7,Qxb7,Rxb7,Ra5,b4,g5,Rb6,g6,fxg6,fxg6,Kf8,Rf5+,Rf6,Rxf6+,gxf6,f4,Kg7,f5,Re7,Kf2,Kf8,Kf3,Kg7,Be4,Rc7,Ke3,Rc3+,Bd3,Rc5,Kd4,Rc7,Bc4,Re7,Be6,Rc7,Bc4,Rc8,c3', 'Rd8+,Ke4,bxc3', 'https://lichess.org/training/kXROU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kxs2O', 'Rapid', 'aayalac', 1763, 'Jossix', 1800, 'e4,c5,d4,cxd4,c3,dxc3,Nf3,cxb2,Bxb2,Qa5+,Nbd2,e6,Bd3,Nc6,O-O,d5,e5,f6,exf6,Nxf6,Bxf6,gxf6,a4,e5,Bb5,Bg4,Nb3,Qc3,Qxd5,Rd8,Qe4,Rg8,Nxe5,fxe5,Rfc1,Bf3,Bxc6+,Qxc6', 'Qxe5+,Be7,Rxc6,Rxg2+,Kf1', 'https://lichess.org/training/kxs2O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kXT16', 'Blitz', 'Capajavi', 1726, 'suha', 1673, 'e4,e5,Nf3,Nf6,Nc3,c6,d4,Bb4,Bd3,d6,dxe5,Ng4,exd6,Qxd6,O-O,Bxc3,bxc3,Be6,a4,Nd7,Re1,Nde5,Nxe5,Qxe5,f4', 'Qc5+,Be3,Nxe3,Rxe3,Qxe3+', 'https://lichess.org/training/kXT16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KXxno', 'Classical', 'PaquitoFIMO', 2000, 'Anirudh_Rajan2020', 2103, 'd4,Nf6,c4,g6,Nc3,d5,f3,Bg7,e4,dxe4,fxe4,O-O,e5,Nfd7,Nf3,c5,Bf4,cxd4,Qxd4,Nc6,Qe3,Qc7,e6,Nde5,Nxe5,Bxe5,Bh6,Bg7,Bxg7,Kxg7,exf7,Rxf7,O-O-O,Bf5,Nd5,Qa5,a3,Rd8,Bd3,Bxd3,Rxd3,Rdf8,Rhd1,b5,cxb5,Qxb5,Nc3,Qb3,Kb1,Rf2,R3d2,R2f7,Nd5,Qxe3,Nxe3,Rf2,Ng4,R2f4,Ne3,Re4,Nd5,Rd8,Nc3,Rxd2,Rxd2,Re1+,Ka2,e5,Rd7+,Kf6,Rc7,Nd4,Rxh7,e4,Rxa7,e3,Rd7,e2,Nxe2,Nxe2,Rd2', 'Nc1+,Kb1,Nb3+,Kc2,Nxd2', 'https://lichess.org/training/KXxno');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kxy7v', 'Blitz', 'meysam-ro', 2252, 'enrike88', 2338, 'Nf3,Nf6,c4,e6,Nc3,d5,e3,c5,d4,cxd4,exd4,Nc6,Bg5,Be7,Rc1,h6,Bh4,O-O,Bd3,dxc4,Bxc4,b6,O-O,Bb7,a3,Rc8,Ba2,Na5,Ne5,Nd5,Nxd5,Bxh4,Ne3,Bf6,Rxc8,Qxc8,b4,Nc6,Nxc6,Qxc6,d5,exd5,Bxd5,Qc7,Bxb7,Qxb7,Qd5,Qc7,a4,Rd8,Qf5,Qc3,Qb5,Qd3,Qh5,Bd4,Ng4,Qc4,Qh4,Re8,a5,b5,Qg3,Bc3,Nxh6+,Kh8,Nf5', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/Kxy7v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kxZfl', 'Rapid', 'srburns7', 2010, 'scthan', 2059, 'e4,d6,Nf3,Nf6,Nc3,g6,Bc4,Bg7,O-O,e5,d4,exd4,Qxd4,O-O,Bg5,Nc6,Qd3,h6,Bh4,Be6,Nd5,Bxd5,Bxd5,Qd7,e5,Nb4,exf6,Nxd3,fxg7,Kxg7,cxd3,c6,Bb3,Rae8,Bg3,Re2,Rab1,Rfe8,d4,f6,Ba4,d5,a3,g5,h4,g4,Nh2,R2e4,Rbd1,h5,b4,Re2,Bb3,Rb2,Rb1,Ree2,Rxb2,Rxb2,Ba4,Ra2,Bd1,Rxa3,f3,Qe6,Re1,Re3,Rf1,Rd3,fxg4,Rxg3,gxh5,Qe3+,Kh1,Qd2,Rg1,Qxd4,Nf3,Qf4,Re1,Kf7,Kg1,d4,Rf1,Qe3+,Kh1,d3,Re1,Qc1', 'Bb3+,Kf8,Rxc1', 'https://lichess.org/training/kxZfl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KxZX4', 'Bullet', 'AleksandrGory', 1769, 'kimaga', 1760, 'e4,e6,d4,d5,Be3,dxe4,f3,exf3,Nxf3,Nf6,Bd3,Be7,O-O,b6,c4,O-O,Nc3,Ba6,Ng5,h6,Nf3,Nbd7,Qd2,Ng4,Ne4,Nxe3,Qxe3,Nf6,Nxf6+,Bxf6,Ne5,Bxe5,dxe5,Qg5,Qe4,g6,Rf3,Kh7,Raf1,Kg7,Rf6,Rab8,h4,Qh5,g4,Qxh4,Rxg6+,Kh8', 'Rg8+,Rxg8,Qh7#', 'https://lichess.org/training/KxZX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ky00V', 'Classical', 'ValerijKozyrev', 2043, 'Ahmed_Hassan_C', 2106, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,Bb4,e5,d6,a3,Bxc3+,bxc3,dxe5,Nxe5,Nf6,Bb5+,c6,Be2,Nbd7,Nxd7,Qxd7,O-O,O-O-O,Qe1,h6,a4,g5,a5,b5,c4,a6,cxb5,cxb5,c4,bxc4,Bxc4,Qxd4,Be3,Qe4,f3,Qh4,Qc3,Kb8,Rab1,Rc8,Qe5+,Ka8,Rxb7,Kxb7,Rb1+,Ka8,Bxa6,Rb8,Bb6,Nd7,Qc7,Nxb6,axb6,Qd4+,Kf1,Rxb6,Rxb6,Qd1+,Kf2,Qd2+,Kg3', 'Qe1+,Kh3,Qh4#', 'https://lichess.org/training/ky00V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ky0Al', 'Rapid', 'amithalon', 1950, 'Mr-Levi', 2021, 'e4,c5,f4,d5,e5,Nc6,Nf3,Bf5,Bb5,e6,Bxc6+,bxc6,c3,Be7,d4,Nh6,O-O,O-O,h3,Qb6,Qb3,Be4,Qxb6,axb6,Be3,Nf5,Kf2,cxd4,cxd4,c5,g4,Nxe3,Kxe3,cxd4+,Nxd4,Rac8,Nc3,Bg6,Rfc1,Bc5,Na4,Rfe8,Nxc5,bxc5,Nb5,Rc6,Nd6,Rb8,b3,f6,f5,exf5,gxf5,Bh5,Kf4,fxe5+,Kxe5,d4,Ne4,Bf3,Rc2', 'Re8+,Kf4,Bxe4', 'https://lichess.org/training/Ky0Al');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KY0hx', 'Blitz', 'Graf_Sheremetiev', 2103, 'visimpishakiv', 2061, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,Nbd7,Qd2,c5,Nge2,a6,Nc1,Nh5,Nb3,cxd4,Nxd4,e5,Nb3,f5,Qxd6,Qh4+,Bf2,Qg5,Qd2,Bh6,Qxg5,Bxg5,Nd5,Ndf6,Nc7,fxe4,Nxa8,e3,Bg3,e4,Nc7,exf3,gxf3,Nxg3,hxg3,Ng4,fxg4,Bxg4,Bh3,Bf3,Rf1,Bf6,Ne6,Bxb2,Nxf8', 'Bc3+,Nd2,Bxd2#', 'https://lichess.org/training/KY0hx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ky3QR', 'Rapid', 'Loveless_Kunchi', 1861, 'Bahama', 1819, 'Nf3,e6,c4,c5,b3,Nf6,Bb2,Be7,d4,Ne4,Qc2,d5,Nbd2,Bf6,Nxe4,dxe4,Qxe4,Nc6,Rd1,Qa5+,Rd2,O-O,Ba1,Rd8,e3,Nb4,Bc3,Qa3,Be2', 'Qc1+,Bd1,Qxc3', 'https://lichess.org/training/Ky3QR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kY6cK', 'Rapid', 'tactikus', 2254, 'FM tirumpu', 2384, 'Nf3,d6,d4,Nf6,c4,Nbd7,Nc3,e5,e4,c6,Be2,Be7,O-O,a6,d5,Nc5,Qc2,cxd5,cxd5,Bg4,b4,Ncd7,Be3,Rc8,Rac1,O-O,Qd3,Bh5,Nd2,Bg6,f3,Nh5,Rfe1,Nf4,Qb1,Bg5,Bd3,Bh6,Nc4,Nxd3,Qxd3,Bxe3+,Nxe3,Qb6,a3,f5,Kh1,fxe4,Nxe4,Rxc1,Rxc1,Nf6,Nxf6+,Rxf6,Qc3,h5,Qc8+,Rf8,Qe6+,Bf7,Nc4,Qf2,Qxd6,e4,fxe4,Bg6,Qc5,Qe2,Qe3', 'Rf1+,Rxf1,Qxf1+,Qg1,Qxc4', 'https://lichess.org/training/kY6cK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KY6G5', 'Rapid', 'kosta86', 2274, 'Moussardraser', 2227, 'e4,c5,Nc3,a6,f4,b5,Nf3,Bb7,d3,e6,g3,Nf6,Bg2,d5,e5,d4,exf6,dxc3,bxc3,Qxf6,O-O,Be7,Ne5,Bxg2,Kxg2,O-O,a4,b4,Bb2,Qh6,Qg4,Bf6,Qf3,Ra7,Ng4,Qg6,f5,exf5,Nxf6+,Qxf6,Qxf5,Qc6+,Qf3,Re7,Qxc6,Nxc6,Rae1,Rfe8,Rxe7,Rxe7,cxb4,Nxb4,Rf2,f6,d4,cxd4,Bxd4,Re4,c3,Nc6,Rf4,Rxf4,gxf4,Nxd4,cxd4,Kf7,d5,Ke7,Kf3,f5', 'Ke3,Kd6,Kd4,g5,fxg5', 'https://lichess.org/training/KY6G5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KY6G7', 'Rapid', 'Maarcoos144', 1806, 'pipomar', 1945, 'd4,f5,c4,e6,Nc3,d6,Nf3,Nf6,Bd2,Nbd7,e3,Be7,Bd3,c6,O-O,O-O,Re1,a6,a3,Re8,Ng5,Nf8,f4,h6,Nh3,d5,c5,Ng6,Na4,Nd7,b4,Kf7,Nb2,b5,a4,Bb7,a5,Nf6,Be2,h5,Ng5+,Kg8,Nxe6,Qd7,Ng5,Ng4,h3,Bxg5,hxg4,Bf6,g5,Bd8,Bxh5,Qe6,Nd3,Re7,Ne5,Nxe5,dxe5,g6,Bf3,Rh7,Bc3,Be7,Kf2,Kf7,Rh1,Rah8,Rxh7+,Rxh7,g3,Ke8,Kg2,Qg8,Qg1,d4,exd4,Qb3,Qe3,Qc2+,Qd2,Qb3,Qb2,Qg8,Rh1,Rxh1,Kxh1,Qe6,Kg2,Qc4,Be2,Qd5+,Bf3,Qc4,Qc2,Qe6,Kh3,Kd7,g4,Bc8,gxf5,gxf5,Qg2,Qg6,d5,cxd5,Bxd5,Qh5+,Kg3,Qg4+,Kf2,Qxf4+,Qf3,Qh2+,Qg2,Qf4+,Bf3,Bxg5,Qg3', 'Bh4,Qxh4,Qxh4+', 'https://lichess.org/training/KY6G7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KY7h8', 'Rapid', 'DonRockyStar', 1976, 'harsh_chess_player', 1976, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,e6,Bg5,Be7,O-O-O,Nc6,Bb5,Bd7,Nge2,Nb4,a3,Nbd5,h4,c6,Bd3,Qb6,Ne4,h6,Bxf6,Nxf6,Rhf1,O-O,g4,c5,dxc5,Qc7,g5,hxg5,hxg5,Nxe4,Bxe4,Bxg5+,Kb1,f5,Qh5,Bh6,Rg1,Kh8,Rxg7,Kxg7,Rg1+,Kf6,Qxh6+,Ke7,Qh4+,Ke8,Rg7,Qxc5,Bxb7,Rb8,Qh5+,Kd8,Qf3,Qb5,Nd4,Qxb7', 'Nxe6+,Bxe6,Rxb7,Rxb7,Qxb7', 'https://lichess.org/training/KY7h8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KY9fK', 'Rapid', 'qdfgqfg', 1660, 'ayobamz', 1812, 'd3,Nf6,e4,e5,f4,Nc6,Nc3,d5,exd5,Nxd5,fxe5,Nxc3,bxc3,Nxe5,d4,Nc6,Nf3,Bg4,Bg5,Be7,Qe2,f6,Bf4,O-O,d5,Qxd5,Rd1,Qxa2,Qe4,Rfe8', 'Bc4+,Kh8,Bxa2', 'https://lichess.org/training/KY9fK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kyAuq', 'Rapid', 'idiote', 1787, 'pawn-daddy', 1930, 'Nf3,c5,d3,d5,g3,Nc6,Bg2,e5,Nbd2,Nf6,O-O,Bd6,e4,Be6,Ng5,Bg4,Qe1,h6,Ngf3,dxe4,Nxe4,O-O,Bd2,Bxf3,Bxf3,Nd4,Qd1,Nxe4,Bxe4,f5,Bxb7,Rb8,Bd5+,Kh8,Bb3,e4,Qh5', 'Nf3+,Kg2,Nxd2', 'https://lichess.org/training/kyAuq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KyaWQ', 'Classical', 'Prabalpratap', 2016, 'BelMadrid', 2062, 'e4,e5,Nf3,Nc6,Bb5,f5,exf5,e4,Bxc6,dxc6,Ne5,Bxf5,O-O,Bd6,Nc4,Nf6,Nc3,O-O,Ne3,Bd7,d4,Qe8,d5,Qg6,dxc6,bxc6,Ne2,h5,Nc4,Bc5,Nf4,Qf7,Ne5,Bg4,Qe1,Qe8,Qc3,Bd6,Nxc6,Bxf4,Bxf4,Nd5,Qc4,Be6,Bg3,Ne3,Qxe4,Nxf1,Rxf1,Bxa2,Qxe8,Rfxe8,b3,Re6,Nb4,Bxb3,cxb3,a5,Nd5,Re2,Nxc7,Ra7,Nb5,Rb7,Nd4,Rd2,Nf3,Rd3,Ra1,Rdxb3,Nd2,R3b5,h3,Ra7,Kh2,a4,Nc4,Rb4,Na3,Rb3,Bf4,Ra8,Be3,Rc8,Nb1,Rc2,Nd2,Rbb2,Nf3,Rb4,Nd4,Rcc4,Nf5,Re4,Ng3,Re5,Bd2,Rc4,Bc1,Kf7,Bb2,Rb5,Bc1,Ke6,Ne2,Kd5,Nf4+,Kd6,Ba3+,Kd7,Rd1+,Kc8,Ne6,Rb3,Rd8+,Kb7,Nc5+,Kc7,Rd7+,Kc8,Nxb3,Kxd7,Nc5+,Ke8,Ne6,Kf7,Ng5+,Kf6,Nf3,Re4,Nd2,Re2,Bb4,a3,Kg3,a2,Bc3+,Kf7,Kf3', 'Rxd2,Bxd2,a1=Q', 'https://lichess.org/training/KyaWQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kYbKS', 'Rapid', 'Bockman', 1670, 'masraqassaf1', 1706, 'd4,Nf6,Bf4,g6,e3,d6,g3,Bg7,Bg2,Nc6,h3,O-O,g4,h6,Nc3,g5,Bh2,e5,Qd2,exd4,exd4,Re8+,Nge2,Nb8,O-O-O,c6,d5,Nxd5,Nxd5,cxd5,Bxd5,Qf6,Nc3,Nc6,Bxc6,bxc6,Bxd6,Rd8,Be7', 'Rxd2,Bxf6,Rxd1+,Rxd1,Bxf6', 'https://lichess.org/training/kYbKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kYC8j', 'Classical', 'krisolis', 1896, 'callistus2', 1896, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,O-O,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,d6,Qxc3,Qf6,e5,dxe5,Nxe5,Nxe5,Re1,h6,Rxe5+,Kd8,Bb2,Ne7,Qa3,Qf7,Nc3,c6,Qd6+,Bd7,Rae1,Nf5,Qd3,Rf8,Ba3,Kc7,Bxf8,Rxf8,g4', 'Nh4,Qg3,Nf3+', 'https://lichess.org/training/kYC8j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kYcfD', 'Blitz', 'IM Zubrrr', 2557, 'GM ChrolloL', 2511, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Bd7,Nf3,Bc6,Ng3,Nd7,c3,Ngf6,Bd3,Be7,O-O,O-O,Re1,Bxf3,Qxf3,c6,Bc2,Re8,Bd2,Nf8,Rad1,Qa5,a3,Rad8,Bc1,Qb6,h3,Qa5,Re2,Qb5,Red2,Qb6,Ne2,Rd7,g4,h6,Ng3,N6h7,Re2,Bg5,Bxg5,Nxg5,Qg2,Ngh7,f4,Qc7,Rf1,Rde7,Ref2,c5,dxc5,Qxc5,Kh1,Rd8,Ne4,Qc7,f5,exf5,Rxf5,Rde8,Bb3,Ne6,h4,Nhf8,g5,hxg5,hxg5,Ng6,Nf6+,gxf6,gxf6,Rd7,Rh5,Qc6,Bd5,Rxd5,Rxd5,Kf8,c4,Qxc4,Rh5,Nef4', 'Rh8+,Nxh8,Qg7#', 'https://lichess.org/training/kYcfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kYcOu', 'Rapid', 'julianduym', 1884, 'CuteTeenyCold', 1970, 'e4,e6,Nf3,d5,exd5,exd5,Bb5+,c6,Ba4,a5,a3,Bd6,Nc3,Nf6,Qe2+,Be6,Ng5,O-O,Nxe6,fxe6,Qxe6+,Kh8,O-O,Qc7,h3,Nbd7,d4,g6,Qe2,Rae8,Qd3,Ne4,Bh6', 'Bh2+,Kh1,Nxf2+,Rxf2,Rxf2', 'https://lichess.org/training/kYcOu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kYCYJ', 'Rapid', 'AFMsreeman2340', 1825, 'CrapCrusher', 1953, 'd4,Nf6,Nc3,d5,e4,dxe4,f3,exf3,Nxf3,e6,Bg5,Be7,Bd3,O-O,O-O,h6,Bh4,Nd5,Bxe7,Nxe7,Kh1,a6,Qe1,b5', 'Qe4,f5,Qxa8', 'https://lichess.org/training/kYCYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KYdAJ', 'Classical', 'Mirkos', 1911, 'Slim007', 1898, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,O-O,O-O,c6,Bd3,b5,a3,Na6,Nxc6,Qd7,Nxe7+,Qxe7,Nxb5,Nc5,Bc4,Nfxe4,f3,a6,fxe4,axb5,Bxb5,Qxe4,Qxd6,Bb7,Qg3,Qxc2,Bh6,Qxb2,Rab1,Qd4+,Kh1,Ne4,Qe3,Qxe3,Bxe3,Rxa3,Bc1,Ra2,Bc4,Ra7,Be3,Ra3,Rxb7,Rxe3,Rbxf7,Rxf7,Rxf7,Re1+', 'Rf1+,Kh8,Rxe1', 'https://lichess.org/training/KYdAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KYdHx', 'Blitz', 'FM Hopeim', 2428, 'kozenkovvalera', 2480, 'e4,c6,Nc3,d5,Qf3,e6,h4,Nd7,h5,h6,Nh3,Ngf6,d3,Bd6,g4,Ne5,Qg2,Nexg4,f4,e5,f5,d4,Nd1,Bb4+,c3,Bc5,Be2,Ne3,Nxe3,dxe3,Rg1,Rg8,Qg3,Qd6,Bxe3,Bxe3,Qxe3,Bd7,O-O-O,c5,Rg2,O-O-O,Rdg1,Bb5,c4,Be8,Nf2,b5,b3,bxc4,bxc4,Qa6,Kb1,Qb6+,Ka1,Bc6,Rb1,Qa5,Nd1,Kc7,Bf1,Nxh5,Rgb2,Nf4,Qg3,g5,Ne3,Rb8,Nd5+,Bxd5,exd5,Qc3,Qe1,Qxe1,Rxe1,Rxb2,Kxb2,Kd6,Kc3,g4,Rb1,g3,Rb7,g2,Bxg2,Rxg2,Rxf7,Rxa2,Rf6+,Kd7,Rxh6,Ra3+,Kd2,Rxd3+,Kc2,Ra3,Rh7+,Kd6,Rh6+,Ke7,Rh7+,Kf6,d6,Rd3,d7,Rd6', 'Rh6+,Ke7,Rxd6', 'https://lichess.org/training/KYdHx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kyfby', 'Rapid', 'milovanvukayinovic', 2038, 'frkbey2', 1966, 'e4,c5,Nf3,e6,c4,d5,cxd5,exd5,exd5,Qxd5,Be2,Nf6,Nc3,Qd8,O-O,Be7,d4,O-O,dxc5,Bxc5,Bg5,Qb6,Bxf6,Qxf6,Ne4,Qb6,Nxc5,Qxc5,Qb3,b6,Rac1,Qe7,Bc4,Nc6,Rfe1,Qf6,Bd5,Na5,Qb5,Bb7,Bxb7,Nxb7,Rc7,Nd6,Qb3,Rfe8,Rec1,Rec8,Rxc8+,Rxc8,Rxc8+,Nxc8,g3,h6,Kg2,Nd6,Qc2,Nb5,a4', 'Qxf3+,Kxf3,Nd4+,Ke4,Nxc2', 'https://lichess.org/training/Kyfby');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kYjyU', 'Classical', 'Mr-Tambourine-Man', 1762, 'AstMedCristi', 1780, 'e4,b6,d4,Bb7,Nc3,Nc6,d5,Ne5,Bf4,d6,Bb5+,c6,dxc6,Nxc6,Qd5,Qc7,e5,O-O-O,Qxf7,dxe5,Qf5+,Qd7,Qxd7+,Rxd7,Bxc6,Bxc6,Bxe5,Bxg2,Nge2,Bxh1,Nf4,Nf6,Ke2,Bb7,Nb5,Ba6,c4,Bxb5,cxb5,Nd5,Rc1+,Kb7,Nxd5,Rxd5,Rc7+,Ka8', 'Rc8+,Kb7,Rb8#', 'https://lichess.org/training/kYjyU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KYLmY', 'Rapid', 'ferrucciolari', 1715, 'idamin12', 1638, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,Nf6,Bg5,Be7,Bxf6,Bxf6,Qxd6,Be7,Qxd8+,Bxd8,O-O-O,O-O,Nd5,Bg5+,Kb1,Be6,Nbc7,Rac8,h4,Bd8,Nb5,Bb6,f3,Bc5,c3,a6,Nbc7,Bxd5,Nxd5,Ne7,Bc4,b5,Nxe7+,Bxe7,Bd5,a5,g4,a4,Rdf1,b4,cxb4,Bxb4,f4,exf4,Rxf4,Rb8,a3,Bxa3,Rh2,Bd6,Rff2,Bxh2,Rxh2,a3,b3,Rb5,Ka2,Rc5,g5,g6,h5,gxh5,Rxh5,Kg7,Rh2,Kg6,Rg2,Rd8,Kxa3,Rdc8,Bc4,Rxg5,Rf2,Kg7,Rxf7+,Kh6,Rf2,Ra8+,Kb4,Rb8+,Kc3,Rg3+,Kd4,Rg4,Rh2+,Kg7,Ke5,Re8+,Kf5,Rexe4,Rh3,Ref4+,Ke6,Rh4,Rg3+,Rhg4,Rh3,Re4+,Kf5,Rgf4+,Kg5,Rf1,Rg3,Re5+', 'Kh4+,Kf6,Bxf1', 'https://lichess.org/training/KYLmY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kYLRr', 'Blitz', 'casciscuscescos', 1794, 'cristian_guananjay', 1784, 'd4,g6,c4,Bg7,Nc3,e6,Bf4,Ne7,Qd2,O-O,Bh6,d6,Bxg7,Kxg7,e4,Nbc6,Nf3,Bd7,d5,exd5,cxd5,Ne5,Be2,f6,O-O,Bg4,h3,Bxf3,Bxf3,Nxf3+,gxf3,f5,Qd4+,Kg8,e5,dxe5,Qxe5,Qd6,Qe6+,Qxe6,dxe6,a6,Rad1,Rfd8,Kg2,Kg7,Kg3,Kf6,Rxd8,Rxd8,Na4,b6,Re1,Rd2,Rc1,Rd4,Nc3,f4+,Kg4', 'h5+,Kh4,Nf5#', 'https://lichess.org/training/kYLRr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kYMco', 'Blitz', 'FM beni2006', 2492, 'alflames', 2196, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bd6,O-O,O-O,c4,c6,Nc3,Bf5,cxd5,Nxc3,bxc3,Bxd3,Qxd3,cxd5,Bg5,f6,Bh4,Nc6,Rab1,Na5,Bg3,Bxg3,hxg3,b6,Rfe1,Re8,Qb5,Rxe1+,Rxe1,Nc4,Re2,Rc8,Qb1,Qd7,Qd3,Re8,Nd2,Rxe2,Qxe2,Nxd2,Qxd2,Qf5,Qe3,Kf7,Qe2,Qb1+,Kh2,Qf5,g4,Qf4+,g3,Qh6+,Kg2,Qg6,Qb5,Qe4+,Kh2,Qf3,Qd7+,Kg6', 'Qe8+,Kh6,Qh5#', 'https://lichess.org/training/kYMco');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KymZ5', 'Blitz', 'firmanslamet', 2231, 'Enis_Metinn57', 2234, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,Nc6,Qd2,O-O,g4,Nxd4,Bxd4,Be6,h4,Qa5,h5,Rfc8,hxg6,fxg6,Qh2,h5,gxh5,Ng4,fxg4,Bxd4,hxg6,Bxc3+,Kd1,Bxg4+,Be2,Bxe2+,Kxe2,Bf6', 'Qh7+,Kf8,Qf7#', 'https://lichess.org/training/KymZ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kyqsM', 'Blitz', 'Pater_Obassa', 2312, 'oneiros92', 2207, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Nc6,Bc4,Nf6,O-O,Qc7,Nb5,Qb8,e5,Ng4,Bf4,a6,Nd6+,Bxd6,exd6,b5,Bd5,exd5,Re1+,Kf8,Ng5,Nf6,Re7,Nd8,Qe2,h6,Re8+,Nxe8', 'Qe7+,Kg8,Qxe8#', 'https://lichess.org/training/kyqsM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kyQto', 'Rapid', 'Ferjonjonfer', 2089, 'aagiimaster', 1966, 'e4,e5,f4,exf4,Bc4,Be7,d4,Bh4+,Kf1,d6,Nf3,Be7,Bxf4,Nf6,Nbd2,a6,a4,Bg4,h3,Bh5,g4,Bg6,Qe2,Nc6,c3,O-O,Rg1,Re8,Re1,d5,Bd3,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Qd7,Qf5,Qxf5,gxf5,Bd6,Be5,Bxe5,dxe5,Rad8,Rg4,Rd5,Rge4,Ne7,f6,Nf5,Rg4,g6,Kf2,Rd3,h4,h5,Rg5,Nh6,Reg1,Ng4+,R1xg4,hxg4,Rxg4,Kh7,Ng5+,Kg8,e6,Rxe6,Nxe6,fxe6,h5,Kf7', 'hxg6+,Kxf6,g7', 'https://lichess.org/training/kyQto');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kyrmb', 'Blitz', 'NGC2238', 1778, 'AAKing', 1755, 'd4,c6,c4,d5,Nc3,Nf6,e3,Bg4,Be2,Bxe2,Qxe2,e6,cxd5,cxd5,Nf3,Nc6,Qb5,Qc7,Ne5,Bd6,Nxc6,bxc6,Qd3,O-O,O-O,Bxh2+,Kh1,Bd6,e4,dxe4,Nxe4,Nxe4,Qxe4,Rab8,g3,Rb5,Kg2,c5,Rh1,f5,Qxe6+,Kh8,Bf4,Bxf4,gxf4,Rxb2', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/Kyrmb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KyRQz', 'Classical', 'Raen2005', 2171, 'Romanov1959', 2295, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Be7,O-O,O-O,Nc3,Ne4,Qc2,Nxc3,Qxc3,d6,b3,c5,Bb2,Bf6,Qc2,Nc6,dxc5,dxc5,Rad1,Qe7,Bxf6,Qxf6,Rd7,Nb4,Qd2,Bc6,Rd6,Rac8,a3,Na6,Rd1,h6,h4,Nb8,Qd3,Rc7,e4,Rd7,e5,Qe7,Ng5,hxg5,Bxc6,Rc7,Be4,gxh4,g4,Qg5,Rd8,Qxg4+,Kh1,Rd7', 'Bh7+,Kh8,Rxf8#', 'https://lichess.org/training/KyRQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kYrXi', 'Blitz', 'Venkadesh1985', 1893, 'danish_game', 1911, 'e4,e5,Nf3,Nc6,Nc3,Be7,Bc4,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,O-O,O-O,c5,Qd1,a6,f4,b5,Bd5,Rb8,e5,Nxd5,Nxd5,c4,c3,Bc5+,Kh1,Bb7,Rf3,d6,Be3,Bxe3,Rxe3,dxe5,Rxe5,Qh4,Rh5,Qf2', 'Ne7+,Kh8,Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/kYrXi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kyrye', 'Rapid', 'dragon198', 1616, 'BPB4', 1665, 'e4,e5,Bc4,Nc6,Nc3,Bb4,Qg4,g6,Nd5,Nf6,Nxf6+,Qxf6,c3,Bc5,Nf3', 'd5,Qg3,dxc4', 'https://lichess.org/training/kyrye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kysk1', 'Rapid', 'truong87bk', 1750, 'Marko1777', 1805, 'e4,d6,d4,Nf6,Nc3,g6,h3,Bg7,Nf3,a6,Bd3,Nc6,O-O,O-O,Ne2,Nb4,c3,Nxd3,Qxd3,b5,Ng3,e6,Ng5,Nd7,f4,Nb6,f5,h6,Nf3,Nc4,Nh2,e5,d5,g5,Nh5,f6,Qg3,Kh7,h4,Rg8,hxg5,Kh8,Rf3,Bd7,Qh3,Be8,Nxg7,Rxg7,gxh6,Rg8,b3,Nb6,Be3,c6,Rg3,Bd7,Rxg8+,Qxg8,Rf1,Nc8,Ng4,Qf7,Qh4,cxd5,Rf3,dxe4,Rg3,Bxf5,Nxf6,Bg6,Rg5', 'Qxf6,Qf2,Qxf2+', 'https://lichess.org/training/kysk1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kyU00', 'Blitz', 'alirakiyan', 1838, 'SeveruSnape26', 1855, 'e4,c5,f4,d5,exd5,Qxd5,Nf3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,e6,Nc3,Qc6,d3,Be7,Ne5,Nxe5,fxe5,Nd5,Ne4,c4,d4,O-O-O,Rxf7,Rdf8,Rxe7,Nxe7,Nd6+,Kb8,c3,Nd5,Qg4,h5,Qxe6,Nf4,Bxf4,Rxf4,d5,Qb6+,Kh1,Qf2,Rg1,Rhf8,Qd7', 'Qxg1+,Kxg1,Rf1#', 'https://lichess.org/training/kyU00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kYULw', 'Rapid', 'joku17', 1857, 'returnofDmark', 1861, 'd4,Nf6,Bf4,d5,e3,e6,Bd3,Bd6,Bxd6,Qxd6,Nf3,c6,O-O,Nbd7,c4,e5,c5,Qe7,b4,e4,Bxe4,dxe4,Nfd2,a6,Qc2,O-O,Nc3,Re8,a4,Nf8,b5,Bf5,bxc6,bxc6,Nc4,Red8,a5,Ng4,h3,Nf6,Ne5,Qe6,Rab1,Bxh3,gxh3,Qxh3,Nxe4,Ng4,Nxg4,Qxg4+,Ng3,h5,Kh2,h4,Ne2,Ng6,Rg1,Qf3,Rg2', 'h3,Rg3,Qxf2+', 'https://lichess.org/training/kYULw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kyUM0', 'Rapid', 'emiljoal', 2318, 'Javierof', 1970, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,c5,h3,O-O,Be2,Nc6,Be3,cxd4,cxd4,b6,O-O,Bb7,d5,Na5,Rc1,Qd7,Nd4,Rac8,Bb5,Qd6,Qd2,a6,Be2,e5,Nb3,Nxb3,axb3,f5,f3,Bf6,Rfd1,Be7,Bd3,fxe4,fxe4,Rxc1,Rxc1,Rc8,Rxc8+,Bxc8,Qf2,b5,Qa2,Qb4,Qc2,Qe1+,Kh2,Qxe3,Qxc8+,Kg7,Bc2,Bh4,Qc7+,Kf6', 'Qd8+,Kf7,Qxh4', 'https://lichess.org/training/kyUM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KyVEX', 'Rapid', 'PashaKILLER', 1891, 'kran007', 1961, 'd4,d5,c4,dxc4,Nc3,e5,d5,Nf6,e4,Bb4,Qa4+,b5,Qxb4,Bd7,f3,c5,Qxc5,Na6,Qd6,b4,Qxe5+,Be6,dxe6,O-O,exf7+,Rxf7,Bxc4,bxc3,Qe6,c2,Qxf7+,Kh8,Bg5,Qa5+,Kf2,Qxg5,Bxa6,Qc5+,Kf1,c1=Q+,Rxc1,Qxc1+,Kf2,Qc5+,Kg3,Rf8,Qc4,Nh5+,Kh3', 'Nf4+,Kg3,Qg5+,Kf2,Qxg2+', 'https://lichess.org/training/KyVEX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kyX6J', 'Blitz', 'FM Oscar-i', 2261, 'T1975', 1918, 'd4,d5,c4,c6,Nf3,Bf5,cxd5,cxd5,Qb3,Qc7,Nc3,e6,Bf4,Qd7,e3,f6,Rc1,Nc6,Bb5,a6,Qa4,Bd6,Bxd6,Qxd6,Bxc6+,bxc6,O-O,Ne7,Qa3,Qxa3,bxa3,O-O,Na4,Rfb8,Rc3,Bg4,Rfc1,Bxf3,gxf3,Rb5,Kf1,Rab8,Ke2,Kf7,Kd2,e5,Kd3,exd4,exd4,a5,R1c2,Rb1,Re2,Rh1,Nc5,Rxh2,Kc2,Rh4,Ne6,Rc8,Rb3,Nf5,Rb7+,Kg6,Kd3,Rh3', 'Nf4+,Kh6,Nxh3', 'https://lichess.org/training/kyX6J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KYXQj', 'Rapid', 'jck_jck', 1929, 'val71', 1826, 'e4,g6,Nf3,Bg7,Bc4,h6,d4,c6,Nc3,d6,Be3,Bg4,h3,Bxf3,Qxf3,e6,O-O,Nd7,Rad1,Qe7,Rfe1,a6,d5,cxd5,exd5,e5,Na4,Ngf6,Nb6,Nxb6,Bxb6,O-O,Bb3,Rac8,Be3,b5,a3,a5,Qe2,Qb7,Qd2,a4,Ba2,Rc7,Bxh6,Bxh6,Qxh6,Rxc2,Qg5,Kg7,Bb1,Rxb2,Rd3,Nxd5,h4,Rb3,Red1,Rxd3,Rxd3,Qc6,Kh2,Nf4,Rg3,Qc1,Be4,Qe1,Bc2,Qxf2,Be4,Rh8,Bf3,f6,Qg4,Rd8,h5,g5,Qf5,Qa7,Be4,Rh8,Rxg5+,fxg5,Qxg5+,Kf7,h6,Rg8,Qf5+,Ke8,h7,Rh8,Qc8+,Ke7,Qxh8,Qd4,Qg7+,Ke6,h8=Q,Qxe4,Qe8+,Kd5,Qgf7+,Kd4,Qg7,Qd5,Qg3,Qb3,Qc8,d5,Qf2+,Qe3,Qxe3+,Kxe3,Qc3+,Ke4,Qe1+,Kf5,Qb1+,e4,Qxb5,Ke5,Qb2+,Kf5,Qb8,e3,Qf8+,Ke4,Qh6,e2,Qh4,Ke3,Qe1,d4,Kg1', 'Nd3,Qg3+,Kd2,Kh2,e1=Q', 'https://lichess.org/training/KYXQj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KyxQR', 'Blitz', 'knightofficer', 2302, 'Mitchell82', 2214, 'e4,c6,Nc3,d5,Nf3,Bg4,h3,Bh5,g4,Bg6,Qe2,e6,Bg2,dxe4,Nxe4,Nd7,d4,Ngf6,Ne5,Nxe4,Bxe4,Bxe4,Qxe4,Nf6,Qd3,Qd5,O-O,Bd6,c4,Qe4,Qxe4,Nxe4,Be3,c5,Nf3,b6,Rfd1,O-O-O,a3,h5,g5,Rd7,d5,e5,Nd2,Nxd2,Bxd2,e4,Re1,Re8,Re2,Rde7,Rae1,Kd7,Bc3,Be5,Rxe4,Bxc3', 'Rxe7+,Rxe7,Rxe7+,Kxe7,bxc3', 'https://lichess.org/training/KyxQR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kZ2kq', 'Rapid', 'qawer', 1782, 'rajeshsri', 1702, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,e6,Nf3,Be7,Bd3,Nd7,O-O,N7f6,Bg5,c6,Qd2,O-O,Rfe1,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/kZ2kq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kz5UJ', 'Blitz', 'Ardagh', 1532, 'MJ_5', 1536, 'd4,g6,c4,Bg7,Nc3,c5,e4,cxd4,Nd5,e6,Nf4,Nc6,Nf3,Qb6,b3,Nh6,Bd3,O-O,Bb2,e5,Nd5,Qa5+,Nd2,Qd8,O-O,d6,Nf3,Bg4,Be2,f5,h3,fxe4,hxg4,exf3,Bxf3,Ne7,Ba3,Kh8,Nb4,Rb8,g5,Nhf5,Qc2,Nh4,Be4,a5,Nd5,Nxd5,Bxd5,b5,Qd3,b4,Bc1,Nf5,g3,Qd7,Kg2,Ne7,Qe4,Rf5,Rh1,Rbf8', 'Rxh7+,Kxh7,Qh4+,Bh6,Qxh6#', 'https://lichess.org/training/Kz5UJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KZ5WG', 'Blitz', 'NM nikonovenik', 2342, 'ChsPly', 2341, 'd4,d6,c4,Nf6,Nc3,g6,e4,Bg7,Nf3,O-O,Be2,c6,O-O,Qc7,d5,e5,dxe6,fxe6,Be3,e5,c5,dxc5,Bxc5,Rd8,Qb3+,Kh8,Ng5,Rd7,Rad1,h6,Rxd7,Nbxd7,Bd6,Qb6,Nf7+,Kh7,Nxe5,Qxb3,axb3,Nxe4,Nxd7,Nxc3,bxc3,Bxd7,c4,Re8,Bd3,a6,c5,Be6,b4,Bf5,Bc4,Be6,Bd3,Bf7,h4,h5,g4,hxg4,f3,Re3,fxg4,Be6,Bb1,Bd4,Kg2,Kg7,h5,Bd5+,Kh2,Re2+,Kg3,gxh5,gxh5,Rb2,Bf4,Rxb4,h6+,Kh8,Re1,Bf7,Re7,Bf2+,Kg4,Bh5+,Kxh5,Rxf4', 'Re8+,Rf8,Rxf8#', 'https://lichess.org/training/KZ5WG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kZ6uZ', 'Blitz', 'aktajha', 2219, 'FM Wizzard1971', 2351, 'c4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Nc2,Nf6,g3,O-O,Bg2,d6,O-O,Bg4,Ne3,Qd7,Nxg4,Nxg4,Bd2,Nge5,b3,Rfc8,Rc1,Rab8,f4,Ng4,e4,a6,Qe2,b5,Bh3,Nd4', 'Qxg4,Qxg4,Bxg4', 'https://lichess.org/training/kZ6uZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kZAd6', 'Rapid', 'Jair11000', 1751, 'Relax768', 1877, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Nd7,Nc3,c5,Be3,Ne7,Nb5,Nc6,c3,a6,Na3,b5,O-O,c4,Nc2,Be7,a3,O-O,Nb4,Nxb4,axb4,Re8,b3,cxb3,Qxb3,Nf8,Ra5,Ng6,Rfa1,Qb6,Bxb5,Be4,Be2,Reb8,Rxa6,Rxa6,Rxa6,Qb7,Ra5,Bxf3,Bxf3,h6,h3,Qb6,Be2', 'Qxa5,bxa5,Rxb3', 'https://lichess.org/training/kZAd6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KZCIB', 'Rapid', 'Reydelmar', 1822, 'mohdismail', 1768, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,Nf6,Re1,h6,d4,Be7,d5,Nb8,Be2,O-O,Nbd2,Nh7,Nf1,f5,Ng3,f4,Nf1,g5,g3,g4,Nxe5,dxe5,Bc4,Bd6,gxf4,exf4,e5,Bc5,e6,Qh4,Qc2,Ng5,Re2,g3,Qg6+,Kh8,e7,gxf2+,Kh1,Bxe7', 'Rxe7,Rf7,Rxf7', 'https://lichess.org/training/KZCIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KZCUH', 'Classical', 'RyszardR', 1917, 'Sauerpower', 1887, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,Bg5,e6,e3,Be7,a3,O-O,Bd3,Bd7,O-O,Rc8,Rc1,a6,b4,h6,Bh4,Na7,Ne5,Be8,Bxf6,Bxf6,f4,Be7,Qg4,Rc7,Qg3,Bh4,Qf3,Qc8,Ne2,Bb5,Qg4,Bf6,Bxb5,Nxb5,a4,Nc3,Nxc3,Rxc3,Qd1,Bxe5,fxe5,Qc4,b5,Rc8,Rxc3,Qxc3,Qe1,axb5,axb5,Qd3,Qf2,Qxb5', 'Qxf7+,Kh8,Qxe6', 'https://lichess.org/training/KZCUH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KZcYs', 'Classical', 'ConanTheBarbarian', 1784, 'osvaldo123', 1844, 'd4,d5,Nc3,Bf5,f3,Bg6,e4,dxe4,fxe4,e6,Nf3,h6,Bd3,Bb4,O-O,Bxc3,bxc3,Ne7,Nh4,Bh7,Qf3,O-O,Bxh6,gxh6,Qg3+,Kh8,Rf6,Rg8,Qe5,Rg5,Rf5+,Rg7', 'Rxf7,Qg8,Rxe7', 'https://lichess.org/training/KZcYs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kzd3o', 'Rapid', 'mrAG24', 1789, 'Dael74', 1765, 'd4,d5,Bf4,e6,Nf3,c5,e3,Nc6,c4,cxd4,exd4,Bd6,Bxd6,Qxd6,c5,Qf4,Nbd2,Nxd4', 'Qa4+,Bd7,Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/Kzd3o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kZD4k', 'Classical', 'SAXMAN1', 1680, 'MGplaysChess', 1686, 'e4,e5,Nf3,Nf6,d3,Nc6,Be2,Bc5,Bg5,h6,Bxf6,Qxf6,Nc3,d6,Nd5,Qd8,O-O,Be6,c4,Nd4,Nc3,Nxe2+,Qxe2,Bg4,Nd1,Qg5,Ne3,Bxe3,fxe3,Bxf3,Qxf3,O-O,Qf5,Qxe3+,Kh1,Qxd3,b3,a5,Rad1,Qc2,Ra1,a4,h3,Qb2,bxa4,Rxa4,Qd7,Rxc4,Rab1,Qxa2,Rxb7,Rc2,Rg1,Qa8,Rxc7,Rxc7,Qxc7,Qxe4,Qxd6,Qd4,Rd1,Qxd6,Rxd6,Re8,Kg1,e4,Kf2,f5,Ke3,Kf7,Rd5,g6,g3,Ke6,Ra5,Kf6,Ra6+,Kg5,h4+,Kg4,Rxg6+,Kh5,Rf6,Re5,Kf4,Ra5,Rf8,Kg6,Rh8,Ra6,Rg8+,Kf7,Rh8,Kg7,Rd8,Kg6,Rg8+,Kf7,Rh8,Re6,Kxf5', 'e3,Rh7+,Kg8,Rc7,e2,Kxe6,e1=Q+', 'https://lichess.org/training/kZD4k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kZDLi', 'Blitz', 'mv163', 1726, 'alireza_yz', 1745, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Be6,Bb3,Nf6,d4,exd4,cxd4,Bb6,d5,Nxe4,dxe6,fxe6,Bxe6,Qf6,Bd5,Nxf2,Rxf2,Bxf2+,Kxf2,Ne5,Bg5,Qf5,Nc3,Nxf3,Qxf3,Qxg5,Re1+,Kd7,Qf7+,Kd8,Nb5,Qd2+,Re2,Qa5,Qe7+,Kc8,Be6+,Kb8,Bc4,a6', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/kZDLi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kzg9t', 'Rapid', 'khan1343', 1946, 'TheBill8', 1842, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,h6,O-O,O-O,b4,Bb6,a4,a6,a5,Ba7,Be3,d6,Bxa7,Rxa7,Nbd2,b6,axb6,cxb6,Bb3,b5,h3,a5,bxa5,Rxa5,Qc2,Qb6,Rfb1,Bd7,Nh4,Rfa8,Rxa5,Rxa5,Nf5,Bxf5,exf5,Qc5,Ne4,Nxe4,dxe4,b4,cxb4,Qxc2,Bxc2,Rb5,Ra1,Rxb4,f3,Nd4,Ba4,Kf8,Bd7,Ke7,Bc8,Rb8,Ra7+,Kf6,Bb7', 'Nb5,Ra6,Rxb7', 'https://lichess.org/training/Kzg9t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KZgLX', 'Rapid', 'major101781', 1755, 'Rwoyland', 1838, 'c4,Nf6,d4,h6,Nc3,c6,e4,d6,h3,Qa5,a3,Nxe4,Ne2,Bf5,b4,Nxc3,Nxc3,Qc7,Bf4,Nd7,Rc1,g5,Be3,Bg7,Be2,O-O,Bf3,Rfe8,O-O,Rad8,b5,e5,bxc6,e4,Bh5,bxc6,d5,Nf6,Be2,c5,Nb5,Qb6,Rb1,a6', 'Nd4,Qxb1,Qxb1,cxd4,Bxd4', 'https://lichess.org/training/KZgLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kzguO', 'Rapid', 'omid163', 1764, 'safonova', 2053, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nc6,Bf4,Nf6,Nb5,e5,dxe5,Ne4,e6,Bb4+,c3,Nxc3,bxc3,Bxc3+,Nxc3,O-O,exf7+,Rxf7,Bg3,d4,Nb5,Qa5+,Qd2,Re7+,Kd1,Qa4+,Qc2', 'Re1+,Kxe1,Qxc2', 'https://lichess.org/training/kzguO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KzgzZ', 'Rapid', 'Kajames', 1819, 'pirtnu', 1664, 'd4,d5,Nf3,a6,c4,dxc4,a4,Nf6,e3,e6,Bxc4,Bd6,O-O,O-O,Nc3,b6,e4,Bb4,Bg5,Be7,Re1,Bb7,Rc1,h6,Bh4,Nbd7,Bb3,c5,d5,exd5,exd5,Re8,Qd3,Rc8,Bc2,c4,Qf5,g6,Qh3,h5,Rcd1,Nc5,Qg3,Rc7,Qf4,Rd7,Bxf6,Bxf6,Rxe8+,Qxe8,Qxf6,b5,Ne5,Re7,f4,Nd7,Nxd7', 'Re1+,Kf2,Qe3#', 'https://lichess.org/training/KzgzZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KZjiZ', 'Classical', 'iSweeT', 1667, 'Derrick12', 1670, 'd4,c5,d5,d6,e4,Nf6,Bd3,c4,Bxc4,Nxe4,Nf3,b5,Bxb5+,Bd7,Bxd7+,Nxd7,O-O,g6,Re1,Ndf6,Qd4,Qb6,Qa4+,Kd8,Rxe4,Nxe4,Qxe4,Bg7,Ng5,Ke8,Be3', 'Qxb2,Qa4+,Kf8,Nd2,Qxa1+', 'https://lichess.org/training/KZjiZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kzjVg', 'Blitz', 'Ukraine__988', 2216, 'hydR', 2205, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,Be3,O-O,Qe2,Ng4,f3,Nxe3,Qxe3,Nc6,Nxc6,bxc6,O-O,Qa5,Kh1,Bb7,Rab1,Qh5,Ne2,d5,exd5,cxd5,Bd3,e5,Ng3,Qh4,Qf2,Rfc8,b3,a5,a4,Bf8,Ne2,Qxf2,Rxf2,Bb4,Ng3,f5,Re2,e4,fxe4,fxe4,Bb5,Rc3,Nf1,Rac8,Ne3,Bc5,Nd1,Bb4,Nxc3,Bxc3,Rf1,d4,Bc4+,Kh8,Rf7,Bc6,Ref2,e3,Re2,Be4,Rd7,Rf8,h3,Rf1+,Kh2,d3,Bxd3', 'Be5+,g3,Rh1#', 'https://lichess.org/training/kzjVg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KzLoE', 'Rapid', 'syvsanger', 1755, 'bolk', 1794, 'd4,d5,Bf4,Bf5,Nf3,Nc6,c3,e6,Nbd2,h6,e3,a6,Nb3,Nf6,Bd3,Bxd3,Qxd3,Be7,O-O,Nh5,Bg3,Nxg3,fxg3,O-O,Rf2,a5,Raf1,a4,Nbd2,Bf6,Ne5,Nxe5,dxe5,Bxe5,Nf3,Bf6,g4,c5,h4,c4,Qc2,Bxh4,Nxh4,Qxh4,Qe2,Qe7,e4,Qc5,e5,b5,g5,hxg5,Qh5,Qe7,Rf6,Rfc8', 'Rxf7,Rc7,Rxe7', 'https://lichess.org/training/KzLoE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kZNey', 'Rapid', 'Djurica', 1986, 'yasen1', 1973, 'e4,c5,Bc4,Nc6,Nf3,Nf6,Nc3,d6,h3,g6,d4,cxd4,Nxd4,Bg7,Bb5,Bd7,Bxc6,bxc6,Bg5,O-O,Qd2,Rb8,O-O-O,Qb6,Nb3,c5,e5,c4,exf6,cxb3,fxg7', 'bxa2,gxf8=Q+,Kxf8', 'https://lichess.org/training/kZNey');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KZNwS', 'Rapid', 'wert3', 2029, 'bbmoro', 2062, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nc6,Nc3,e6,Nf3,a6,d5,Nce7,Bc4,b5,Bb3,Nf6,dxe6,Bxe6,Bg5,Bxb3,Qxb3,Qb6,Bxf6,gxf6,O-O,Rc8,Nd5,Nxd5,Qxd5,Be7,Rac1,Kd7,e5,Rc5,Qxf7,fxe5,Rfe1,Rf8,Qxh7,Rxc1,Rxc1,e4,Qh3+,Ke8,Ng5', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/KZNwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kZOmg', 'Rapid', 'MicroByte', 1778, 'Pirlo65', 1887, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,Bg4,Be2,e6,O-O,Nf6,Re1,Be7,Ne5,Bxe2,Qxe2,O-O,Ne4,Nbd7,c3,Nxe4,Qxe4,Nf6,Qe2,Qd5,Be3,Rad8,a3,Qb3,Rac1,Nd5,Qf3,Nxe3,Qxe3,Bf6,Qd2,Bxe5,Rxe5,Rd5,Re3,Rfd8,Rh3,g6,Rf3,Rb5,Rc2,Rdd5', 'c4,Qxf3,gxf3', 'https://lichess.org/training/kZOmg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KZp0r', 'Blitz', 'mobulu', 2009, 'Vlad1654', 2027, 'e4,e5,f4,Nf6,fxe5,Nxe4,Nf3,Be7,Bc4,d5,Bb3,O-O,O-O,Nc5,d4,Nxb3,axb3,Be6,c3,c5,Be3,Nd7,Nbd2,f6,exf6,Bxf6,Qe1,b6,Qg3,g6,Bh6,Bg7,Bxg7,Kxg7,Ng5,Bg8,Rxf8,Qxf8,Rf1,Qe7,Ndf3,Rf8,Nh3,Nf6,Qg5,Qe2,Nh4,Nd7,Nf5+,Kh8,Nf4,Qe4', 'Nxg6+,hxg6,Qh6+,Bh7,Qg7#', 'https://lichess.org/training/KZp0r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kZPsy', 'Rapid', 'ibrahim14', 1902, 'rizling99', 2075, 'd4,g6,Bf4,Bg7,Nf3,d6,e3,c5,c3,cxd4,exd4,Nd7,Nbd2,e5,Bg3,Ne7,Qc2,Nf5,O-O-O,Nxg3,hxg3,O-O,Ne4,Nb6,dxe5,d5,Nf6+,Bxf6,exf6,Qxf6,Bd3,Bg4,Rh4,Bxf3,gxf3,Qxf3,Rh6,Kg7,Rdh1,Rh8,c4,Qf6,f4,Nxc4,f5,Rac8,Qe2,Nxb2+,Kb1,Nxd3,Qxd3,Rc6,Qxd5,Rb6+,Kc2,Rc8+,Kd3,Rc3+,Kd2,Rb2+,Kd1,Rb1+,Kd2,Rxh1,Qxh1,Qg5+,Kxc3,Qxh6', 'f6+,Kxf6,Qxh6', 'https://lichess.org/training/kZPsy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KzQDh', 'Rapid', 'Poz_228', 1661, 'Paisiblement', 1679, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bg5,c6,Nf3,Bb4,Bd3,O-O,O-O,Bg4,Ne2,Be7,Ng3,Nbd7,h3,Be6,Qd2,h6,Bxh6,Ne4,Bxe4,dxe4,Ng5,gxh6,Nxe6,fxe6,Qxh6,Rf7,Qxe6,Nf6,Nf5,Qf8,Nxe7+,Qxe7,Qf5,Raf8,Rfe1,Nd5,Qg4+,Rg7,Rxe4,Qf7,Qe2,Nf4,Qf3,Rxg2+,Kh1,Rg7,Rae1,Nxh3,Qxh3,Rh7,Rg4+,Kh8,Rh4,Qd5+,Ree4', 'Qxe4+,Rxe4,Rxh3+', 'https://lichess.org/training/KzQDh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kZrWk', 'Blitz', 'GM Benefactorr', 2756, 'IM Badmatsyrenov_Oleg', 2433, 'd4,Nf6,Nc3,d5,Bg5,Nbd7,Nf3,c6,Qd3,Qa5,O-O-O,b5,a3,e6,e4,b4,axb4,Bxb4,Bxf6,Nxf6,Nd2,Bxc3,Qxc3,Qxc3,bxc3,Ng4,Re1,Nxf2,Rg1,Nxe4,Nxe4,dxe4,Rxe4,Ke7,Re5,a5,Bd3,Bd7,g4,h6,Kb2,Rhb8+,Ka3,Kd6,h4,f6,Rc5,a4,g5,hxg5,hxg5,f5,Bc4,Rh8,Re1,Rh3,Bd3,Rg3,Rce5,Rxg5,Bc4,Rg6,Rh1,f4,Rh7,f3,Re1,Rf8,Rf1,Rg2,Bd3,f2,c4,Rg1,c5+,Kd5,c3,Rxf1,Bxf1,Rf7,Kb4,Ke4,Rh3,e5,Rh4+,Ke3,dxe5,Kd2,Re4,Be6,c4,Rb7+,Kxa4,Rf7,Ka5,g5,Kb6,g4,Kxc6,g3,Kd6,Bc8,e6,Rf6,c6,Rg6,c7', 'g2,Bxg2,Rxg2', 'https://lichess.org/training/kZrWk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KzSTZ', 'Rapid', 'Qerim57', 1642, 'seilustig', 1880, 'e4,e6,d4,d5,e5,a6,Nf3,c5,Be3,Qb6,dxc5,Bxc5,b3,Bxe3,fxe3,Qxe3+,Qe2,Qb6,c3,Bd7,Nd4,Nc6,Qe3,Nge7,Nd2,Qc7,N4f3,Nf5,Qe2,O-O,h3,Ng3,Qe3,Nxh1,Bd3,Ng3,O-O-O,Rac8,Kb2,Ne7,Bxh7+,Kh8,Ng5,Nef5,Bxf5,Nxf5,Qf3,Qxe5', 'Qh5+,Nh6,Nxf7+,Rxf7,Qxe5', 'https://lichess.org/training/KzSTZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Kzt0Q', 'Blitz', 'TroyanRises', 1629, 'MarcusCrescent', 1616, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Bb4,Qa4+,Nc6,e3,Bd7,Qc2,h6,Bxf6,Qxf6,cxd5,exd5,Bd3,O-O,Ne2,Bd6,Nxd5,Qg5,Be4,Be6,Ndf4,Nb4,Qc3,Bxf4,Nxf4,Qb5,a4,Qb6,O-O,a5,Rfc1,c6,Nxe6,fxe6,Qc4,Rae8,b3,Nd5,Bf3,g5,Bh5,Rd8,Qd3,Rf6,e4,Nf4,Qf3,Qxd4,Rd1,Nh3+,Qxh3', 'Qxf2+,Kh1,Rxd1+,Rxd1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/Kzt0Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KZU3t', 'Blitz', 'FM filipos05', 2390, 'leakovic', 2312, 'd4,Nf6,Bg5,c6,Nc3,Qb6,Qd2,d5,O-O-O,Nbd7,e3,e6,Nf3,Bb4,a3,Be7,Bd3,Qc7,Bf4,Qd8,h3,b5,g4,a5,Ne2,Nb6,Ng3,b4,g5,Nfd7,axb4,axb4,Qe2,c5,dxc5,Nxc5,Bb5+,Kf8,Ne5,Bxg5,Nc6,Bxf4,Nxd8,Bxg3,fxg3,Ne4,Kb1,Na4,Rd3,Nac5,Rd4,Ke7,Nc6+,Kd6,Nxb4,Bd7,Bxd7,Kxd7,Rhd1,Ke7,Nxd5+,exd5,Rxd5,Rhb8,Qc4,Ra4,Rxc5,Rxc4,Rxc4,Nf6,Rcd4,Rb7,b3,h6,Kb2,Nh5,e4,Nxg3,e5,Nf5,Rf4,g6,Rdf1,h5,Rc4,Ke6,Rcf4,Kxe5,Rc4,Kf6,h4,Rb5,Rc3,Kg7,Ka3,Rb7,b4,Nxh4,Kb3,Nf5,Rc5,Nd4+,Kc4,Nxc2,Rb1', 'Na3+,Kb3,Nxb1', 'https://lichess.org/training/KZU3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kZuEI', 'Blitz', 'AlexM2', 1547, 'Gowthamv29', 1519, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,c5,O-O,Ne7,Nd2,Nc6,Nf3,Be7,c3,dxc3,bxc3,O-O,Bb2,Qa5,Bxc6,bxc6,d4,cxd4,cxd4,Rb8,Qc2,d6,Rfe1,Bg4,Bc3,Qh5,Nd2,Qg5,Qd3,Bf6,h3,Be6,Kh1,Rfd8,e5,dxe5,Qf3,Bd5,Ne4,Bxe4,Qxe4,exd4,Rad1,dxc3', 'Rxd8+,Rxd8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/kZuEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kZxen', 'Blitz', 'behxhetshala', 2393, 'FM ArdianJashari', 2423, 'e4,e6,d4,c5,c3,d5,e5,Nc6,Nf3,Qb6,Bd3,Nge7,dxc5,Qxc5,b4,Qb6,a4,Ng6,Qe2,Qc7,Bxg6,hxg6,O-O,a6,Bf4,Be7,Bg3,Bd7,Nbd2,g5,Nb3,Rc8,Rfc1,g4,Nfd4,Nxd4,cxd4,Qb8,b5,axb5,axb5,b6,Qxg4,g6,Qe2,O-O,h4,Rxc1+,Rxc1,Rc8,Rb1,Rc3,Nd2,Qc7,Nf3,Rc1+,Rxc1,Qxc1+,Kh2,Qc4,Qe3,Bxb5,h5,Qd3,Qc1,gxh5,Qc7,Bf8,Qxb6,Bc4,Qa7,Qf5,Bh4,Be2,Ng5,Bh6,Qe7,Bxg5,Qxg5+,Qxg5,Bxg5,Kg7,Kg3,Kg6,Bf6,Kf5,f3,Bd3,Bg7,Be2,Kh4,Kg6,Bf8,Bf1,g3,Bc4,Be7,Be2,f4,Kf5,Bf6,Bg4,Bg5', 'Ke4,Bd8,Kxd4', 'https://lichess.org/training/kZxen');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KzXgM', 'Rapid', 'kerbol', 1982, 'Ei8hty8', 1861, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Be2,h5,O-O,Qd4,d3,Ng4,Bxg4,hxg4,Bf4,Bb6,Rb1,a5,Ne2,Qf6,Bg3,Be6,b3,g5,d4,O-O-O,Be5,Qh6,Bg3,Qg6,Qd3,f5,Be5,Rh7,Ng3,f4,Nf5,Qh5,h3,gxh3,g3,Bxf5,exf5,Bxd4,Bxd4,Rxd4,Qxd4,h2+,Kg2,h1=Q+,Rxh1', 'f3+,Kf1,Qxh1#', 'https://lichess.org/training/KzXgM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kzxw8', 'Blitz', 'sbbhqk', 2151, 'Fadittaru', 2082, 'h3,d6,e4,h6,d4,g5,Nc3,Bg7,f4,gxf4,Bxf4,Nc6,Nf3,e5,dxe5,Nxe5,Qe2,Nxf3+,Qxf3,Nf6,O-O-O,Qe7,e5,dxe5,Bxe5,Qxe5,Bb5+,Kf8,Rhe1,Qg5+,Kb1,Be6,Qxb7,Re8,Bxe8,Nxe8,Ne4,Qxg2,Qxa7,Qxh3,Nc5,Kg8,Nxe6,fxe6,Rd7,Kh7,Rg1,Rg8,Qd4,Kh8,Qd3,Qf5,Qd1,Qf6,c3,Qf5+,Ka1,c5,Rf1,Qg6,Rff7,Nf6,Rc7,Qg5,Qh1,Ne8,Ra7,Qg6,Rfb7,Qg3', 'Qxh6+,Bxh6,Rh7#', 'https://lichess.org/training/kzxw8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('KZyHx', 'Rapid', 'jaaap', 2211, 'jirka67', 2246, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,Na3,e6,Bc4,Qd8,O-O,Nf6,d4,cxd4,Bg5,Bxa3,Bxf6,Qxf6,bxa3,dxc3,Qc2,O-O,Rfc1,b6,Bd3,h6,Qxc3,Qxc3,Rxc3,Bb7,Be4,Rac8,Rac1,Na5,Bxb7,Rxc3,Rxc3,Nxb7,Rc7,Rd8,h4,Nc5,Rxa7,Rd1+,Kh2,Ra1,Ne5,Rxa2,Ra8+,Kh7,Nxf7,Rxf2', 'Rh8+,Kg6,Ne5+,Kf5,Rf8+,Kxe5,Rxf2', 'https://lichess.org/training/KZyHx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('kzZJ0', 'Rapid', 'darioworld', 1649, 'Goretto', 1653, 'e4,e6,Nf3,d5,e5,c5,c4,Nc6,cxd5,exd5,Bb5,Bd7,Bxc6,Bxc6,O-O,Qc7,d4,O-O-O,dxc5,Bxc5,Qc2,Qb6,Qf5+,Rd7,e6,fxe6,Qg5,Nf6,Ne5,Re7,Nxc6,bxc6,Be3,Bxe3,Qxe3,Qxb2,Nd2,Qb6,Qf4,Qc7,Qe3,Ng4,Qh3,h5,Rab1,Rf8,Qxh5,Qf4,Nf3,e5,Qh4,Rff7,Qh8+,Rf8,Qh4,Ref7,h3,Nh6,Qxf4,Rxf4,Nxe5,R8f6,Rbc1,Kc7,Nd3,R4f5,Nc5,Nf7,Na6+,Kb6,Nb4,Ne5,Rb1,Kc7,Na6+,Kd6,Rb7,Rf7,Rbb1,c5,Rfd1,d4,Rbc1,Nd7,Rb1,Nb6,Ra1,Rxf2,a4,R2f5,a5,Nd5,Re1,Re7,Rec1,Nc7,Nxc7,Kxc7,a6,Kc6,Rab1,d3,Rd1,Rd5,h4,c4,Rbc1,Kb5,h5,Kxa6,Rxc4,d2,Kf2,Rxh5,Rb4,Rf5+,Kg3,Re3+,Kg4,Rd5,Ra1+,Ra5,Rxa5+,Kxa5,Rd4,Re2,Kf3,d1=Q,Rxd1,Rb2,Rd7,Kb6,Rxg7,a5,Rg8,Kc5,Rc8+,Kd6,Ra8,Rb5,g4,Rg5,Kf4,Rb5,g5,Ke6,Rf8,Ke7,Rf6,a4,Ra6,Rb4+,Kf5,Kf7,g6+,Kg7,Ra7+,Kg8,Kg5,Rb5+,Kh6,Rb4', 'Ra8+,Rb8,Rxb8#', 'https://lichess.org/training/kzZJ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L01p3', 'Rapid', 'Am427915567', 1866, 'tranh', 1806, 'e4,b6,d4,Bb7,Bd3,Nf6,Nc3,e6,a3,h6,Nf3,c5,dxc5,Bxc5,O-O,O-O,Qe2,Be7,Re1,d6,h3,e5,Nh2,Nbd7,f4,Nc5,fxe5,dxe5,Ng4,Nxd3,cxd3,Nxg4,Qxg4,Kh8,Qf3,Ba6,Nd5,Bc5+,Kh1,Bd4,Qh5,Kh7,Rf1,Bxd3,Rf6,Bxe4', 'Rxh6+,gxh6,Qxh6+,Kg8,Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/L01p3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l0cyy', 'Rapid', 'Sahith_Yakkala', 1632, 'mate_amargo', 1736, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,Nc3,Nd4,Qd1,d6,Nd5,Nxe4,c3,c6,Ne3,Nf5,d3,Nc5,Nxf5,gxf5,Qh5,Be6,Nf3,Bxc4,dxc4,f4,O-O,Qf6,b4,Nd3,c5,Nxc1,Raxc1,O-O-O,Ng5,Qg6,Qxg6,fxg6,Nf7,Bg7,Nxd8,Rxd8,Rcd1,d5,Rfe1,e4,h3,Bxc3,Rf1,Bxb4,Rc1,Bd2,Rc2,Bb4,Rb1,a5,Rcb2,e3,a3,Bxc5,Rxb7,exf2+,Kf1,Re8', 'Rb8+,Kd7,R1b7+,Kd6,Rxe8', 'https://lichess.org/training/l0cyy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l0GTd', 'Rapid', 'Denzel527', 1734, 'MatheusChatu', 1787, 'd4,d5,Bf4,Nf6,e3,Nc6,Nd2,e6,a3,Bd6,Qf3,O-O,Rc1,Bxf4,Qxf4,a5,Bb5,Bd7,Ngf3,Na7,Bxd7,Qxd7,Ne5,Qb5,Nb3,a4,Nc5,Qxb2,O-O,b6,Ncd7,Nxd7,Nxd7,Rfd8,Qxc7,Qxa3,Nxb6,Nb5,Qg3,Rab8,Ra1,Qb4,Rfb1,Qc3,Nxa4,Qxc2,Nc5,Nc3,Rxb8', 'Ne2+,Kh1,Nxg3+,hxg3,Rxb8', 'https://lichess.org/training/l0GTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l0ICc', 'Blitz', 'WFM bobbyyy67', 2296, 'ct-chess', 2179, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,Bg4,Qb3,Qd7,Nd2,e6,h3,Bh5,Ngf3,Bd6,Ne5,Qc7,Bb5,O-O,Bxc6,bxc6,O-O,Rab8,Qc2,Rb7,b3,c5,dxc5,Qxc5,Nd3,Qc7,Bxd6,Qxd6,Rfe1,Rc8,c4,Bg6,Rad1,Rd7,Qc3,dxc4,Nxc4,Bxd3,Re3,Qa6,Rexd3,Rxd3,Qxd3,Nd5,a4,h6,Ne3,Nxe3,Qxe3,Qa5,Rd7,Qf5,Rxa7,Rc2,a5,Rb2,a6,Qd5,Rc7,Rxb3,Qc1,Qe4,a7,Rb1,Rc8+,Kh7,a8=Q', 'Rxc1+,Rxc1,Qxa8', 'https://lichess.org/training/l0ICc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l0J3E', 'Rapid', 'sudheer1689', 1635, 'TimDaiu', 1619, 'e4,e5,Nf3,c6,Nxe5,Qe7,d4,d6,Nf3,Qxe4+,Be2,g6,Nc3,Qe7,d5,Bg7,O-O,Nf6,Re1,O-O,dxc6,bxc6,Bg5,h6,Bxf6,Qxf6,h3,d5,Rb1,Nd7,Na4,Nb6,c3,Nc4,Bxc4,dxc4,Nc5,a5,Ne5,Qf5,Ned7,Rd8,Re7,Ra7,Nf6+,Bxf6,Qxd8+,Kg7,Rbe1,Bxe7,Rxe7,Rxe7,Qxe7,Qb1+,Kh2,Qxb2,Qe5+,Kf8', 'Qh8+,Ke7,Qxc8', 'https://lichess.org/training/l0J3E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l0KC5', 'Rapid', 'Boombotyi', 1811, 'Hinder31', 1839, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,d6,a3,Bg4,Be3,b5,Bb3,b4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Rg1,h5,Nbd2,a5,a4,Nd4,Ba2,Qf6,Rg3,Rb8,Bxd4,exd4,Bc4,Qf4,Qe2,h4,Rg1,h3,O-O-O,Kd7,e5,h2,Rge1,Re8,Bb5+', 'c6,Bxc6+,Kxc6,Qe4+,Qxe4', 'https://lichess.org/training/l0KC5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l0Kel', 'Rapid', 'AboutToBlunder', 1822, 'vopaev', 1873, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,c4,e5,Be2,Nf6,Nc3,Be7,O-O,O-O,Kh1,a5,f4,exf4,Bxf4,Bb7,Bf3,Qb6,Qd2,Rad8,Be3,c5,Nd5,Nxd5,exd5,Bf6,Rab1,Qb4,Qxb4,axb4,Bf4,Be5,Bxe5,dxe5,Rfe1,f6,b3,Rde8,Be4,f5,Bc2,e4,g4,Bc8,gxf5,Bxf5,Re3,Rf6,Rbe1,Ra6,Bb1,g6,Kg2,Kg7,Kg3,g5,R1e2,Kg6,Bxe4,Bxe4,Rxe4,Rxe4,Rxe4,Rxa2,Re6+,Kf7,Rc6,Ra3,Rxc5,Rxb3+,Kg4,Rc3,Kxg5,b3,Rb5,Rxc4,Rxb3,Rd4,Rb5,Ke7,Kf5,Rh4,Rb2,Kd6,Rd2,Rh5+,Kf6,Rh3,Kg5,Re3,h4,Re5+,Kh6,Re7,h5,Rd7,Kg5,Rd8,Kf6,Rg8,Kf7,Rg5,h6,Rg6,Rh2,Kxd5,Rh5+,Ke4,Kf8,Kf4,Kf7,Kg4,Rh1,Kf4,Rh4+,Ke5,Rh1,Kd6,Rh5,Kd7,Rh1,Rg3,Rd1+,Kc6,Rh1,Kd5,Rh5+,Ke4,Kf6,Rf3+', 'Kg7,Rb3,Kxh7', 'https://lichess.org/training/l0Kel');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l0MSb', 'Blitz', 'shoujiro', 1523, 'Jimmyy11', 1538, 'd4,d5,Nf3,Bf5,c4,e6,e3,c5,Nc3,cxd4,Nxd4,Nf6,Nxf5,exf5,cxd5,Bd6,Bc4,O-O,O-O,Ne4,Nxe4,fxe4,b3,f5,Re1,Nd7,Bb2,a6,Rc1,b5,Bf1,Ne5,Bxe5,Bxe5,a4,b4,Bc4,Bc3,Re2,Kh8,Rec2,a5,Bb5,Rc8,d6,Rf7,d7,Rc7,Qd5,Kg8,Bc4,Rxd7,Qxf5,Rd1+,Rxd1,Qxd1+,Bf1,Qxc2', 'Qc8+,Rf8,Bc4+,Kh8,Qxf8#', 'https://lichess.org/training/l0MSb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L0NNh', 'Rapid', 'INDIANGANG', 1814, 'Me77i', 2083, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nxc6,dxc6,Nc3,e5,Bc4,Nf6,O-O,Be7,Na4,Qc7,f4,b5,fxe5,Qxe5,Bf4,Qxe4,Bxf7+,Kxf7,Nc3,Qc4,Be5,Rd8,Qh5+,Kg8,Bxf6,Bxf6,Rad1,Rxd1', 'Qe8#', 'https://lichess.org/training/L0NNh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L0O7w', 'Classical', 'Nike95', 2061, 'ripachu', 2048, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,Bb4,Bd3,d5,exd5,Qxd5,O-O,Bxc3,bxc3,e4,Re1,O-O,c4,Qd6,Rxe4,Nxe4,Ng5,Qf6,Bxe4,Qxa1,Bxh7+,Kh8,h3,f6,Bg6,Rd8,Nf7+,Kg8,Nxd8,Ne7,Bf7+,Kf8,Bd5,Nxd5', 'Ba3+,Kg8,Qxa1', 'https://lichess.org/training/L0O7w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l0Q0q', 'Classical', 'JohnBOD', 2030, 'Diggs124', 2077, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,Nbd7,a3,e6,O-O,Qc7,Ba2,b5,Be3,Bb7,f3,Nb6,Qe2,d5,exd5,Nbxd5,Rad1,Bd6,Ne4,Bxh2+,Kh1,Nxe4,fxe4,Nxe3,Qxe3,O-O,Bxe6,Rae8,Nf3,Rxe6,Nxh2,Rh6,Qf4,Qxc2', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/l0Q0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l0rr5', 'Rapid', 'ARAAD22', 1890, 'Murex', 1902, 'e4,e5,Nf3,Nf6,Bc4,Nc6,d3,h6,Be3,Ng4,c3,Nxe3,fxe3,d6,O-O,Bg4,Qb3,Na5,Bxf7+,Ke7,Qd5', 'c6,Nxe5,cxd5', 'https://lichess.org/training/l0rr5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L0RTy', 'Rapid', 'kouchakzad', 1920, 'alisednawi10', 1821, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Be2,e5,Nxc6,bxc6,Bd3,Be7,O-O,O-O,f4,exf4,Bxf4,h6,Kh1,d5,exd5,Nxd5,Bd2,Bg5,Nc3,Bxd2,Qxd2,Bb7,Rf3,Nxc3,bxc3,c5,Rg3,Qf6,Rf1,Qc6,Qf4,Rad8,Bc4,Rd7,a4,Kh8,Bb5,Qd6,Bxd7,Qxd7,Rh3,Qc6,Rg3,f6,Qg4,Rf7,h3,Qd6,Rd1,Qe7,Rf1,Qd6,h4,Qe5,Rf5,Qe1+,Kh2,Bc8,Qc4,Be6,Rf1', 'Qxg3+,Kxg3,Bxc4', 'https://lichess.org/training/L0RTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l0sTv', 'Rapid', 'stephikem', 1836, 'KARENVARDANYAN', 1891, 'e4,c5,Nf3,e6,c3,Be7,d4,cxd4,cxd4,d6,Nc3,a6,Be3,Nd7,Bd3,b5,b4,Bb7,O-O,Ngf6,a3,Rc8,Rc1,O-O,e5,Nd5,Nxd5,Bxd5,Qe2,Rxc1,Rxc1,dxe5,Nxe5,Bd6,f4,f6,Bxh7+,Kxh7,Qh5+,Kg8,Ng6,f5,Rc3,Qf6,Bf2,Bc4,Rg3,Rb8,Rh3,Nb6,Ne5,Kf8,Nc6,Rc8,Ne5,Bd5,Ng6+,Ke8,Ne5+,Ke7', 'Bh4,Rc1+,Kf2', 'https://lichess.org/training/l0sTv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L0tv5', 'Classical', 'robinhood76', 1851, 'yago666', 1937, 'd4,g6,Bf4,Bg7,c3,d6,Nf3,Nd7,e3,e5,Bg3,Qe7,dxe5,dxe5,Qa4,Nf6,Bxe5,O-O,Bxc7,Nc5,Qf4,Nd5,Bd6,Qd8,Bxf8,Nxf4,Bxc5,Nd3+,Bxd3,Qxd3,Bd4,Be6,Na3,Qa6,Bxg7,Kxg7,Nd4,Bd5,f3,Re8,Kd2,Qf6,h4,a6,c4,Qe5,Rae1,Bc6,Nac2,Qa5+,b4,Qxa2,Kc3,b5,Nxc6', 'Qxc4+,Kd2,Qxc6', 'https://lichess.org/training/L0tv5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l0uDz', 'Rapid', 'MaxEve', 1892, 'nogamble', 1909, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Bc5,O-O,O-O,Qe2,Re8,a3,d5,e5,Bg4,Qd2,Rxe5,h3,Bh5,b4,Bb6,a4,a5,Bb2,Re6,b5,cxb5,axb5,Qd7,Bf5,Qxb5,c4,Qc5,Bxe6,fxe6,cxd5,Ne4,Qe3,Qxe3,fxe3,Bxe3+,Kh2,exd5,Nc3,Nd2,Rfe1,d4,Nd5,c6,Nxe3,dxe3,Rxe3,Nc4,Rb3,a4,Rb7,Nxb2,Rxb2,Be8,Rab1,a3,Rb8', 'a2,Rxe8+,Rxe8', 'https://lichess.org/training/l0uDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L0uMH', 'Rapid', 'James_Wallcroft', 1645, 'mondjin', 1626, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Nf3,Nc6,Bg5,h6,Bxf6,gxf6,Bb5,a6,Bxc6+,bxc6,O-O,Qb6,Rb1,Bg4,Na4,Qb4,c3,Qc4,b3,Qb5,Nb2,e5,c4,Qa5,dxe5,fxe5,cxd5,cxd5,Re1,Bd6,Nc4,Qc5,Nxd6+,Qxd6,Rxe5+,Qxe5,Nxe5,Bxd1,Rxd1,Rd8,Nc6,Rd6,Nd4,O-O,Nf5,Re6,h3,Rd8,Kh2,Re2,Nxh6+,Kg7,Ng4,Rxa2,Rd3,f5,Ne3,f4,Nf5+,Kf6,Nd4,Rxf2,Kg1,Ra2,h4,Rh8,Nf3,Rh5,Kh2,Ke6,Kh3,Re2,Kg4,Rf5', 'Nd4+,Ke5,Nxe2', 'https://lichess.org/training/L0uMH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L0v6z', 'Rapid', 'Rampeguina', 1647, 'Loulou65', 1660, 'e4,e5,Nf3,Nc6,Bb5,Bd6,d4,exd4,Nxd4,Nf6,O-O,Be5,Nf5,O-O,f4,Bd6,e5,Bc5+,Kh1,Ne8,Qg4,g6,Nc3,d6,Bd3,dxe5,fxe5,Nxe5,Nh6+,Kg7,Qf4,Nxd3,cxd3,f5', 'Qe5+,Nf6,Qxc5', 'https://lichess.org/training/L0v6z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L0Zrz', 'Rapid', 'ChessTino2', 1757, 'Walkabout1956', 1691, 'd4,Nf6,Bg5,Nc6,Bxf6,gxf6,e4,Nxd4,Qxd4,e5,Qd2,d6,Nc3,c6,O-O-O,Be6,f4,Bh6,Qxd6,Bxf4+,Kb1,Qc7,g3,Qxd6,Rxd6,Be3,h4,Ke7,Rd3,Bb6,Bh3,Bd4,Bxe6,fxe6,Nh3,b5,a3,a5,Ne2,Bb6,c3,c5,Nf2,b4,cxb4,axb4,Ng4,c4,Rf3,Rhf8,Rhf1,bxa3,Rxa3,h5,Rxa8,Rxa8,Nxf6,Rf8,Ng8+,Rxg8,Kc2,Rg4,Kc3,Bd4+,Nxd4,exd4+,Kxd4,Rxg3,Rf4,Rg4,Ke3,Rxf4', 'Kxf4,Kd6,Kg5,Ke5,Kxh5', 'https://lichess.org/training/L0Zrz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L11el', 'Rapid', 'anax_makis', 2168, 'domser', 1905, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,Nc3,Nf6,Nf3,g6,Bf4,Bg7,e5,dxe5,dxe5,Qxd1+,Rxd1,Nd7,Nd5,O-O,Nc7,Rb8,e6,fxe6,Nxe6,Rxf4,Nxf4,Bxb2,Bc4+,Kg7,O-O,Nde5,Nxe5,Nxe5,Bb3,Bf5,Rfe1,Bc3,Re3,Bb2,Rde1,Nc6,Ba4,Bf6,Nd5,Bg5,f4,Bh4,g3,Bf6,Nxf6,exf6,Bxc6,bxc6,Re7+,Kh6,Rxa7,Rb2,Ree7,g5,Rxh7+', 'Bxh7,fxg5+,fxg5', 'https://lichess.org/training/L11el');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l14bD', 'Blitz', 'portellaaljp', 1700, 'fuket', 1592, 'e4,h6,d4,a6,c4,e6,Nf3,c6,Nc3,d5,e5,dxc4,Bxc4,Nd7,Qb3,Nb6,Bd3,Ne7,Be3,Ned5,Nxd5,Nxd5,Bc4,Nxe3,fxe3,Be7,O-O,b5,Bd3,c5,Qc2,c4,Be4,Rb8,Nd2,Bb7,Rf2,Bd5,Raf1,O-O,Rf3,Bxe4,Nxe4,f5,Ng3,Qe8,e4,fxe4,Qxe4,Rxf3,Rxf3,Qd7,Nh5,Rd8,Rf4,Rf8,Rg4,Rf7,Qe3,Bg5,Qe4,Qd8,Qg6,Qxd4+,Rxd4', 'Be3+,Kh1,Rf1#', 'https://lichess.org/training/l14bD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l1Bsy', 'Rapid', 'ttsag', 2111, 'younes_abadeh', 2255, 'd4,Nf6,c4,e6,Nf3,b6,a3,Bb7,g3,c5,Bg2,Be7,dxc5,Bxc5,b4,Be7,Nc3,O-O,O-O,d5,cxd5,Nxd5,Nxd5,Bxd5,Bb2,Nd7,Nd4,Bxg2,Kxg2,Qc7,Rc1,Qb7+,Kg1,Rac8,Nb5,Rxc1,Qxc1,Bf6,Bxf6,Nxf6,Rd1,Rc8,Qd2,h6', 'Nd6,Ne4,Nxb7,Nxd2,Rxd2', 'https://lichess.org/training/l1Bsy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L1bTR', 'Blitz', 'flagish', 1928, 'f550', 1875, 'd4,e6,Nf3,d5,Bf4,c5,e3,Qb6,Qc1,Nc6,c3,c4,Nbd2,f5,Ne5,Nf6,Be2,Be7,O-O,O-O,f3,Nxe5,Bxe5,Bd6,e4,fxe4,Bxd6,Qxd6,fxe4,dxe4,Bxc4,Kh8,Qe1,Bd7,Nxe4,Nxe4,Qxe4,Rxf1+,Rxf1,Re8,Bd3,g6,Rf7,Bc6,Rxh7+,Kxh7', 'Qxg6+,Kh8,Qh7#', 'https://lichess.org/training/L1bTR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L1GpC', 'Rapid', 'laki3', 1888, 'sharath_k_menon', 1909, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Nxb4,c3,Nc6,d4,exd4,cxd4,Bb6,Qb3,Qe7,O-O,Nxd4,Nxd4,Bxd4,Bb2,Bxb2,Qxb2,f6,Nc3,d6,Nd5,Qd7,Nf4,a6,Be6,Qd8,Rac1,c6,Qb3,Bxe6,Nxe6,Qe7,Nf4,Nh6,Rb1,Rb8,Qd3,Nf7,h3,O-O,Qg3,Ng5,f3,Ne6,Nd3,Nd4,Qf2,Nb5,a4,Nc7,h4,Qf7,g4,Qc4,Nb2,Qa2,Qd4,Qe6,Nc4,Rfd8,Ne3,Qe7,Nf5,Qf8,Qc4+,Kh8,h5,d5,exd5,Nxd5,Rfe1,Re8,Rbd1,Qa3,Kg2,Ne3+,Nxe3,Rxe3,Rxe3,Qxe3,Rd7,Qe8,Qd3,h6,Kg3,Qe5+,Kh3,Qf4,Rd8+,Rxd8,Qxd8+,Kh7,Qd3+,Kg8,Qd8+,Kf7,Qd7+,Kg8,Qd8+,Kh7,Qd3+,f5,gxf5,Qb8,f6+,Kg8,Qc4+,Kf8,Qe6,Qe8', 'fxg7+,Kxg7,Qxe8', 'https://lichess.org/training/L1GpC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L1HyW', 'Rapid', 'siamakkk', 1812, 'Goble_0801', 1837, 'e4,c5,Bc4,Nc6,Nf3,d6,c3,g6,d4,cxd4,cxd4,Bg7,Be3,Nf6,Nc3,e6,O-O,d5,exd5,exd5,Bb3,Be6,Re1,O-O,Ng5,Bd7,Nf3,Be6,Bg5,Re8,Nxd5', 'Bxd5,Rxe8+,Qxe8,Bxd5,Nxd5', 'https://lichess.org/training/L1HyW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L1IuC', 'Rapid', 'Andrzej701', 1627, 'gangaraa', 1934, 'd4,c5,d5,d6,e4,e5,a3,f5,exf5,Bxf5,Bd3,Bxd3,Qxd3,Nf6,c4,Be7,Nc3,O-O,Nf3,a6,a4,Nbd7,O-O,b5,cxb5,axb5,Nxb5', 'e4,Qd1,exf3', 'https://lichess.org/training/L1IuC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L1JMi', 'Rapid', 'Zote_M', 2188, 'hammoudini', 2268, 'c4,Nf6,Nc3,c5,Nf3,Nc6,g3,g6,Bg2,Bg7,O-O,O-O,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,b3,Qa5,Bb2,Rb8,Nd5,Qd8,Qxa7,Be6,Nxf6+,exf6,Rfd1,Qc7,Qd4,Rfd8,Rac1,Qa5,a4,Qb4,Qc3,Qc5,Bd5,b6,Qf3,Bxd5,Rxd5,Qb4,Rcd1,f5,Bxg7,Kxg7,Qd3,Rb7,Rb5,Qa3,e4,fxe4,Qxe4,Rbb8,Rxb6,Qb2,Rxb8,Rxb8,Qd4+,Qxd4,Rxd4,Rxb3,Rxd6,Rb4,c5,Rxa4,Kf1,Rc4,c6,Kf8,Ke2,Ke7,Kd3,Kxd6,Kxc4,Kxc6,Kd4,Kd6,Ke4,Ke6,Kf4,Kf6,h4,h6,Kg4,h5+', 'Kf4,Ke7,Kg5', 'https://lichess.org/training/L1JMi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L1m5n', 'Rapid', 'DionisSenjo', 1670, 'Babken-Martoyan', 1744, 'e4,Nc6,d4,d6,Nf3,e5,d5,Nce7,Bb5+,Bd7,Nc3,c6,dxc6,Nxc6,Ng5,h6,Nxf7,Kxf7,Qf3+,Ke7', 'Nd5+,Ke8,Qh5+,g6,Qxg6#', 'https://lichess.org/training/L1m5n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L1mgq', 'Rapid', 'Ragnar25', 1780, 'le_bigrou_fou', 1685, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c4,a6,Ba4,f6,d4,exd4,Nxd4,Nxd4,Qxd4,Nc6,Bxc6,Bb4+,Bd2,Bxd2+,Qxd2,bxc6,Nc3,O-O,b3,Qe7,Nd5,Qxe4+,Ne3,Re8,O-O,Bb7,Rfe1,d6,c5,dxc5,Nc4,Qd5,Rxe8+,Rxe8,Qc3,Qd4,Qc1,Re2,Qf1,Bc8,Re1,Rxe1,Qxe1,Kf7,h3,Be6,Na5,Qb2,Nxc6,Qxa2', 'Nd8+,Ke7,Nxe6', 'https://lichess.org/training/L1mgq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l1Nja', 'Blitz', 'Micky1', 1670, 'asanbelmon', 1671, 'e4,e6,d4,Ne7,c4,b6,Nc3,Bb7,d5,Nbc6,dxc6,Nxc6,Nf3,Bb4,a3,Bxc3+,bxc3,O-O,Bd3,Ne7,O-O,f6,Bf4,e5,Bg3,Ng6,h4,d6,h5,Ne7,h6,g6,Nh4,Bc8,f4,exf4,Bxf4,g5,e5,gxf4,Bxh7+,Kxh7,Qd3+,f5,Rxf4,dxe5,Rg4,Qxd3,Rg7+,Kh8,Rxe7,Qxc3', 'Ng6+,Kg8,h7#', 'https://lichess.org/training/l1Nja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l1P5c', 'Rapid', 'mendigo-go', 1698, 'monaresmanuel', 1724, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Nf3,Bg4,h3,Bh5,Nbd2,Nc6,c3,Bc5,Qe2,O-O,Qe4,Nf6,Qh4,Bg6,O-O,Bxd3,Bxd3,Qxd3,Nb3,Bb6,Qg3,Ne4,Qg4,Nxf2,Rxf2,Qd1+,Kh2,Bxf2,Bh6,Bg1+,Kh1,Be3+,Rxd1,Bxh6,Qf5,g6,Qf6,Bg7,Qg5,f6,Qg4,Rfe8,Rd7,e4,Nfd4,Ne5,Qe2,Nxd7,Nd2,Rad8,Qc4+,Kh8,Qxc7,e3,N2f3,e2,Nc2,Ne5,Nxe5,fxe5,Kg1,Rd2,Ne1,Red8,Kf2,Bf6,Qxb7,Rd1,Nf3,Rf1+,Kxe2,Rfd1,h4,R1d7,Qa6,Re8,Qxf6+,Kg8,Kf2,Rde7,Ke3,Re6,Qg5,Kg7,g4', 'h6,Qxe5+,Rxe5+', 'https://lichess.org/training/l1P5c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L1PzQ', 'Blitz', 'Omskchess', 1908, 'misterkaze', 1800, 'd4,d5,c4,Nf6,Nc3,g6,Bg5,Bg7,e4,dxe4,Bxf6,Bxf6,Nxe4,Qxd4,Nxf6+,Qxf6,Nf3,Qxb2,Be2,Qc3+,Nd2,Nc6,O-O,Bf5,Rc1,Qa5,Nb3,Qxa2,Ra1,Qc2,Qxc2,Bxc2,Nd2,O-O-O,Nf3,Be4,h3,Kb8,c5,Nd4,Nxd4,Rxd4,Ra3,Rhd8,Rfa1,a6,Bxa6,bxa6,Rxa6,c6', 'Ra8+,Kc7,R1a7#', 'https://lichess.org/training/L1PzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L1QRs', 'Rapid', 'mistakeman', 1814, 'thepwr', 2002, 'Nf3,d5,d4,Nc6,a3,Nf6,Nc3,e6,h3,Bd6,Bg5,O-O,e3,h6,Bh4,Be7,Bd3,Nh7,Bg3,Bd6,Ne5,f6,Ng6,Bxg3,Nxf8,Bxf2+,Kxf2,Kxf8,Bxh7,e5,dxe5,fxe5,Nxd5,Be6,e4,Bxd5,exd5,Qf6+,Kg1,Nd4,Qg4,Qb6,Rf1+', 'Nf3#', 'https://lichess.org/training/L1QRs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l1sAf', 'Rapid', 'snow65', 2292, 'skanesson', 2103, 'g3,e5,Bg2,d5,d3,Nf6,Nd2,c5,c4,Nc6,cxd5,Nxd5,Ngf3,Be7,O-O,O-O,a3,f5,e3,Bf6,Qc2,b6,Rb1,Bb7,b3,Rc8,Bb2,Kh8,Rfd1,Re8,Ba1,Ncb4,axb4,Nxb4,Qc1,Nxd3,Qa3,e4,Bxf6,Qxf6,Ne1,Nxe1,Rxe1,a5,Nc4,Red8,Rbd1,Ba6,Bf1,h5,Qb2,Qxb2,Nxb2,Bxf1,Kxf1,Kg8,Nc4,Rd3,Rxd3,exd3,Rd1,b5,Nxa5,c4,bxc4,bxc4,Nxc4,Rxc4,Rxd3,Kh7,Rd6,g6,h4,Kh6,Rd7,Rc2,Kg2,Rb2,Kf3,Rc2,Re7,Rb2,e4,fxe4+,Rxe4,Rb3+,Kf4,Rb5,f3,Rf5+,Ke3,Rb5,Rc4,Re5+,Re4,Rb5,Re7,Rb3+,Kf4,Rb4+,Re4,Rb5,g4,hxg4,fxg4,Rc5,Re5,Rc4+,Kf3,Rc3+,Re3,Rc4,Re4,Rc3+,Kf4,Rh3,Re8,Ra3,g5+,Kg7,Re7+,Kf8,Re4,Kf7,Ke5,Ra6,Rf4+,Kg7,Rd4,Ra5+,Rd5,Ra7,Ke6,Ra4,Rd7+,Kf8,Kf6,Ra6+,Ke5,Ra4,Rb7,Rxh4', 'Kf6,Rf4+,Kxg6', 'https://lichess.org/training/l1sAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L1Tin', 'Blitz', 'chinkraion', 1736, 'NA99taha', 1667, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,Qc3,Qb6,Be3,Qe6,Bd3,Be7,Nd2,Nf6,O-O-O,Qxa2,Nb3,O-O,Kd2,Qa4,Ra1,Qc6,Qd4,Re8,Na5,Qb6,Qc3,Qd6,Nc4,Qc6,f3,Rd8,Qb3,d5,Ne5,Qd6,Bf4,dxe4', 'Qxf7+,Kh8,Ng6+,hxg6,Bxd6', 'https://lichess.org/training/L1Tin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l1TZW', 'Blitz', 'AceofSteel', 1792, 'Forkast', 1775, 'e4,d5,exd5,Qxd5,d4,Qa5+,Nc3,c6,Nf3,e6,Bd2,Nf6,Nd5,Qd8,Nc3,Be7,Qe2,Bb4,O-O-O,Be7,Ne5,O-O,h3,Nbd7,Bf4,Qe8,g4,Bb4,Ne4,Nxe4,Qxe4,Nf6,Qe3,Nd5,Qe4,Bd6,Bc4,Nxf4,Qxf4,f6,Qe4,fxe5,dxe5,Bc7,f4,b5,Bb3,Bb7,Rhf1,Rb8,f5,c5,Bxe6+,Kh8,Qe2,Bc8,Rd5,Bxe6,fxe6,Rxf1+,Qxf1,Qxe6,Qd1,a6,Rd7,Rc8,Rxc7,Rxc7,Qd8+,Qg8,Qxc7,Qf8,b3,Qf1+,Kb2,Qf8,e6,h6,Qf7,Qd8,e7,Qd4+,Kb1,Qg1+,Kb2,Qd4+,Ka3', 'b4+,Ka4,Qd7+,Ka5,Qb5#', 'https://lichess.org/training/l1TZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L1uCB', 'Rapid', 'kovlvv1', 1633, 'JordiCV', 1610, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Qh5,Qxe4+,Kf1,Be6,d3,Qf5,Qxf5,Bxf5,Nc3,f6,Nf3,Bb4,Bd2,O-O-O,g3,Bg4,Kg2,h5,a3,Bc5,h3,Bxf3+,Kxf3,Ne7,Rhe1,Nf5,Bf4,Nd4+,Kg2,Nxc2,Re7,Nxa1,Rxg7,Rhg8', 'Rxc7+,Kb8,Rxc6+,Ka7,Rxc5', 'https://lichess.org/training/L1uCB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l1vIP', 'Blitz', 'pyruete', 2327, 'pemo', 2379, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,a6,c4,Nc6,Qe3,Nf6,h3,g6,Be2,Bg7,O-O,O-O,Nc3,Bd7,Rd1,Rc8,Rb1,Qc7,b3,Qb8,Bb2,Na7,Nd5,Nxd5,exd5,Rfe8,Bxg7,Kxg7,Nd4,b5,cxb5,Nxb5,Bxb5,Bxb5,Rbc1,Kg8,Nc6,Bxc6,dxc6,Rc7,Rc4,Rec8,Rh4,h5,g4,Qb4,Rd4,Qc5,gxh5,Qxc6,Rc4,Qd5,hxg6,Rxc4,Rh8+,Kxh8', 'Qh6+,Kg8,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/l1vIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l1wuE', 'Blitz', 'FridolinSchopin', 1695, 'Jeshuaxd', 1691, 'd4,d5,c4,e6,Nc3,Bd7,Nf3,c6,h4,Ne7,h5,Nf5,Bg5,Be7,Bf4,O-O,h6,gxh6,Bxh6,Nxh6,Rxh6,Bg5,Rh1,h6,e4,dxc4,e5,f5,exf6,Qxf6,Qc2,b5,a4,Na6,axb5,Nb4,Qe4,cxb5,Ne5,Nd3+,Bxd3', 'Qxf2+,Kd1,Qd2#', 'https://lichess.org/training/l1wuE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l1XFv', 'Classical', 'Royal_blue', 1910, 'Pawnhup', 1976, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Bg4,Qb3,e6,Qxb7,Nbd7,cxd5,Rb8,Qxa7,Bb4,dxe6,Bxc3+,bxc3,Bxe6,Ba3', 'Ra8,Qb7,Rxa3', 'https://lichess.org/training/l1XFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l1yU6', 'Rapid', 'Anatoly______Karpov', 1702, 'emad1997', 1687, 'c4,e5,g3,d6,Bg2,c5,e4,Nc6,Ne2,b6,Nbc3,Bb7,d3,Nf6,O-O,Be7,f4,O-O,Nd5,Nd4,fxe5,dxe5,Nxd4,cxd4,Bg5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/l1yU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L20ur', 'Rapid', 'Spawn907', 1726, 'arekkap', 1767, 'e4,e5,Qf3,Nc6,Bc4,Nf6,c3,Be7,d3,h6,h3,O-O,g4,Nh7,Ne2,Bg5,Nd2,Qf6,h4', 'Bxd2+,Bxd2,Qxf3', 'https://lichess.org/training/L20ur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2EEH', 'Classical', 'Shipunov_Alex', 1676, 'amanQaz123', 1725, 'c4,c6,Nc3,Nf6,e4,d5,exd5,cxd5,cxd5,Nxd5,Bc4,Nxc3,bxc3,Nc6,Qf3,Ne5,Bb5+,Bd7,Qxb7,Rb8,Bxd7+,Nxd7,Qxa7,Nb6,Nf3,e6,O-O,Bc5,d4,Bd6,Re1,Qc8,Rb1,Bc7,Rb2', 'Ra8,Qxb6,Bxb6', 'https://lichess.org/training/L2EEH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2fAB', 'Rapid', 'dmtyan97', 2133, 'Helixbrecher', 2025, 'c4,Nf6,Nf3,e6,g3,d5,cxd5,exd5,Bg2,Bd6,O-O,O-O,b3,Bg4,Bb2,c5,d3,Re8,Nbd2,Nc6,e3,Nb4,d4,Ne4,dxc5,Bxc5,h3,Bh5,g4,Bg6,Ne5,Qh4,Ndf3,Qd8,a3,Nc6,Nxg6,hxg6,b4,Bd6,Kh1,Bc7,b5,Ne5,Nxe5,Bxe5,Bxe5,Rxe5,Qd4,Qe7,Rad1,a6,b6,Rc8,Bxe4,dxe4,Qd7,Rc2,Rd5,Rc5', 'Qxe7,Rxe7,Rxc5', 'https://lichess.org/training/L2fAB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2fYi', 'Classical', 'ademayar', 1786, 'ancleskruch', 1768, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,a6,d4,b5,a3,Bb7,g3,Nf6,Bf4,Qc6,Bg2,Qe6+,Qe2,Qxe2+,Nxe2,Ng4,O-O,e6,Bxc7,Nd7,c3,Rc8,Bf4,Ngf6,Nh4,Bxg2,Kxg2,h6,Rfe1', 'g5,Nf3,gxf4', 'https://lichess.org/training/L2fYi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2iol', 'Rapid', 'edostapowicz', 1798, 'osamaalok', 1759, 'd4,e6,Bf4,d5,Nf3,Nd7,Nbd2,g6,e3,Bg7,Bd3,b6,c3,c5,Bb5,c4,Ne5,a6,Bc6,Ra7,Ndf3,Ne7,Ba4,b5,Bc2,f6,Nxd7,Qxd7,a4,bxa4,Bxa4,Nc6,O-O,O-O,Re1,Re8,e4,e5,Bg3,Qd6,dxe5,fxe5,Bxc6,Qxc6,exd5,Qd6,Qd2,Bb7,Rad1,Rd8,Nxe5,Qxd5,Qe3', 'Qxg2#', 'https://lichess.org/training/L2iol');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2ISu', 'Rapid', 'countofmc', 1738, 'rvachi', 1700, 'e4,e6,c4,c5,d3,Nc6,Nf3,a6,Nc3,Qa5,Bd2,Qb6,Qc1,Nd4,Be2,Nxf3+,Bxf3,Qc7,Bf4,Bd6,Bxd6,Qxd6,Qe3,Qb6,Na4,Qb4+,Nc3,Qxb2,Rc1,Ne7,O-O,O-O,Na4,Qxa2,Ra1,Qb3,Rfb1,Qc2,Bd1,Qxb1,Rxb1,b6,Nxb6,Rb8,Qxc5,Nc6,Bc2,a5,Qd6,Nb4,Nxd7,Bxd7,Qxd7,Nxc2,Rxb8,Rxb8,Kf1,h6,Qa4,Nb4,Qxa5,Nxd3,Qa3,Ne5,f4,Nxc4,Qc5,Nd2+,Ke1,Nxe4,Qe5,Nf6,h3,Rb4,g4', 'Re4+,Qxe4,Nxe4', 'https://lichess.org/training/L2ISu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l2ivb', 'Rapid', 'CrapCrusher', 1860, 'boostyu', 1876, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,d5,exd5,Nxd5,Re1,Re8,Bb5,Bg4,Bxc6,bxc6,Nbd2,Nf4,d4,exd4,Rxe8+,Qxe8,h3,Bxf3,Nxf3,dxc3', 'Bxf4,cxb2,Rb1', 'https://lichess.org/training/l2ivb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2jBY', 'Blitz', 'tonyrossw', 1807, 'zayan77', 1733, 'b3,c5,Bb2,e5,e3,d6,Ne2,Nf6,f4,exf4,Nxf4,Be7,Bc4,Nc6,O-O,O-O,Nc3,a6,Ncd5,Nxd5,Bxd5,Bd7,Qh5,g6,Qh6,Bf6,Nxg6,Bxb2,Nxf8,Qxf8,Qg5+,Bg7,Rxf7,Qxf7,Bxf7+,Kxf7,Rf1+,Kg8,h4,Ne5,h5,h6,Qg3,Kh7,d4,cxd4,exd4,Ng4,Rf7,Be6,Rxb7,Rf8,Qd3+,Kh8,Qg6', 'Bxd4+,Kh1,Rf1#', 'https://lichess.org/training/L2jBY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2m91', 'Blitz', 'Emil2011', 1656, 'hoddi', 1681, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Nf6,e5,Ng4,d3,Ngxe5,Ng5,Nxc4,dxc4,Be7,Qh5,g6,Qh6,Bf6,Nce4,Be5,Nxh7,d5,Bg5,Qa5+,c3,dxe4,Rd1,Rxh7,Qxh7,Bxc3+,bxc3,Qxc3+,Kf1,Qxc4+,Kg1,Nd4,Qg8+,Kd7,Qd8+,Kc6,h3,Qd5,Qe8+,Kb6,Rb1+,Ka5', 'Bd2+,Ka6,Qa4#', 'https://lichess.org/training/L2m91');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2MG3', 'Blitz', 'TheFirstEtc', 1731, 'bassoder', 1742, 'e4,c6,d4,d5,e5,c5,Nf3,Bg4,c3,cxd4,cxd4,Nc6,Be2,Bxf3,Bxf3,e6,Be3,Nge7,Nc3,Nf5,h4,Be7,h5,h6,g4,Bg5,gxf5,exf5,Bxg5,Qxg5,Nxd5,Rd8,Nc7+,Kf8,Nd5,Kg8,Ke2,Kh7,Rg1,Qh4,Qd3,Nxd4+,Ke3,Nxf3,Qxf5+,Kg8,Qxf3,Qc4,Ne7+,Kf8,Ng6+,Ke8,Nxh8,Qd4+,Ke2,Qd2+,Kf1,Rd7,Kg2,Qg5+,Qg3,Qf5,Qxg7,Qe4+,Kf1,Qd3+,Kg2,Qe4+,Kg3,Rd3+,Kh2', 'Qh4+,Kg2,Qh3#', 'https://lichess.org/training/L2MG3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l2OS4', 'Rapid', 'Vovj1952', 1717, 'Moresant', 1647, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Bxc6,Bxc6,Nxc6,bxc6,O-O,Be7,Qf3,O-O,Be3,d5,Rad1,Rb8,b3,Rb4,exd5,cxd5,Nxd5,Nxd5,Rxd5,Qc8,Bxa7,Qb7,Be3,Bd6,Rfd1,Re8,Qe2,Rbe4,Qd3,Rh4,g3,Rg4,Rb5,Qf3,Rf5,Qc6,Qb5,Qa8,a4,Rxe3,fxe3,Bxg3,hxg3', 'Rxg3+,Kf1,Qg2+,Ke1,Rxe3+,Qe2,Rxe2#', 'https://lichess.org/training/l2OS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l2oSN', 'Rapid', 'mcjammi', 1873, 'Marukov_MARMI', 1880, 'e4,e6,e5,d5,exd6,Bxd6,Nf3,Nf6,Bc4,b6,Nc3,Ba6,Bxa6,Nxa6,O-O,O-O,Qe2,h6,Qxa6,c5,Qe2,Re8,Ne4,Nxe4,Qxe4,Bc7,d3,Qd6,Re1,Rad8,Qe5,Qe7,Qe2,Rd5,c4,Rh5,g3,Rd8,Kg2,Qf6,Ng1,Re5,Be3,Qg6,Qd2,Rxd3,Qc2,Rdxe3,Qxg6,Rxe1,Qd3,Rxa1,Qd7,Rxg1+,Kxg1,Re1+,Kg2,Be5,Qxa7,Re2,Qxb6,Bd4,a4,Rxf2+,Kh3,Rxb2,Qxb2', 'Bxb2,a5,Be5', 'https://lichess.org/training/l2oSN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l2QGB', 'Rapid', 'RafaelHernan', 2192, 'AQUILA66', 1928, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nf6,Nxc3,c6,Qb3,Qe7,Nf3,h6,O-O,d5,exd5,cxd5,Re1,dxc4,Rxe7+,Bxe7,Qxc4,Nc6,Bf4,O-O,Re1,Rd8,h3,Bd7,Ne4,Nxe4,Rxe4,Rac8,Qb3,b6,Ne5,Nxe5,Bxe5,Bf5,Rf4,Be6,Qg3,Rd1+,Kh2,Bf8,Rh4,Rcc1,Qf3,Bd5,Qf5,Be6,Qf4,Be7,Rh5,f6,Bc3', 'Bd6,Qxd6,Rxd6', 'https://lichess.org/training/l2QGB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l2qxt', 'Rapid', 'B-Mungunshagai', 1818, 'Azjargal_Danzan', 1833, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,c5,h6,Bh4,b6,b4,O-O,e3,a5,a3,axb4,axb4,Rxa1,Qxa1,Nc6,Nf3,Nxb4,Qa4,bxc5,dxc5,Bxc5,Be2,Bd7,Qb3,Nc6,O-O,Be7,Qc2,e5,Bxf6,Bxf6,Nxd5,e4,Nxf6+,Qxf6,Qxe4,Ne7,Rc1,Qb2,Qc2,Qxc2,Rxc2,c6,Nd4,Rc8,Bf3,c5,Ne2,Ba4,Rc1,c4,Kf1,Bb5,Ke1,Nc6,Nc3,Ba6,Ra1,Nb4,Rxa6,Nxa6,Bb7,Rb8,Bxa6,Rb3,Nd1,c3,Bd3,Kf8,Bc2,Ra3,Ke2,Ke7,Kd3,Ra1,Nxc3,Rh1,h3,Rh2,Nd5+,Kd6,Nf4,g5,Nh5,Rxg2,Ng3,Ke5,Ke2,Rg1,Kf3,Rc1,Bf5,Rg1,e4,Ra1,Kg4,Ra6,h4,f6,Ne2,Ra2,Kf3,gxh4,Ng1,Ra1,Nh3,h5,Kg2,Ra2,Ng1,Kf4,Nf3,h3+,Bxh3,Kxe4,Nh2,Kf4,Nf3,Ra3,Ng1,Ra2,Be6,Rb2,Nh3+,Ke5,Bd7,Rd2,Be8,h4,Ng1,Kf4,Nf3', 'h3+,Kxh3,Kxf3', 'https://lichess.org/training/l2qxt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2RgQ', 'Rapid', 'ah2', 1888, 'yazda', 1885, 'e4,e5,Nf3,f5,exf5,e4,Qe2,Nf6,d3,Qe7,dxe4,Nxe4,Nbd2,Nf6,Qxe7+,Bxe7,Bd3,d5,O-O,O-O,c4,c6,cxd5,cxd5,b3,Nc6,h3,Nb4,Bb1,Nc6,Bb2,Bd7,Bc2,Bb4,Rac1,Ne7,a3,Bxd2,Nxd2,Nxf5,Rfd1,Nd6,Nf3,Bc6,Ne5,Nde4,Bxe4,Nxe4,Nxc6,bxc6,Rxc6,Rxf2,Bd4,Rd2,Rxd2,Nxd2,Rc7,Nxb3,Rxg7+,Kf8,Rxh7,Re8,Bxa7,d4,Rb7,Re3,Kf2,Rc3,Rd7,d3,Be3,Rc2+,Ke1', 'Re2+,Kd1,Rxe3', 'https://lichess.org/training/L2RgQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l2rkN', 'Classical', 'Gandralf', 1934, 'jenica11', 1829, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Bb4+,c3,dxc3,O-O,O-O,bxc3,Be7,e5,Ne4,Re1,Nc5,Be3,Nc6,Nbd2,d5,Be2,Bf5,Nd4,Bg6,f4,Be4,Bb5,Na5,Qg4,f5,Qd1,a6,Be2,Kh8,N2b3,Naxb3,axb3,Qd7,b4,Ne6,Qd2,Rg8,g3,Ra7,h4,Nxd4,Qxd4,Raa8,Bh5,Qe6,Bf2,h6,Re3,g5,Kf1,b6,Be2,c5,Qd2,Qg6,h5,Qe6,Bd3,Rgd8,Rxa6,c4,Rxa8,Rxa8,Bxe4,dxe4,Re1,Rd8,Bd4,Qf7', 'e6+,Rxd4,Qxd4+', 'https://lichess.org/training/l2rkN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2u0j', 'Rapid', 'viglasky', 1916, 'crveni', 1930, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,d6,Bg5,Be6,Bb3,Bxb3,axb3,Be7,Nf3,O-O,O-O,h6,Bxf6,Bxf6,Nd5,Nd4,c3,Ne6,h3,c6,Nxf6+,Qxf6,d4,exd4,Nxd4,Nxd4,cxd4,Rfe8,Re1,a6,Qd2,Rac8,Rad1,Qe6,Qb4,b5,d5,Qf6,Qa3,cxd5,exd5,Rxe1+,Rxe1,Rc2,Rf1,Rxb2,Qxa6,Rxb3', 'Qc8+,Kh7,Qc2+,g6,Qxb3', 'https://lichess.org/training/L2u0j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l2vaR', 'Bullet', 'Darwin2019', 2109, 'jcsampera', 2151, 'd4,d6,Nf3,Bg4,c4,Bxf3,gxf3,g6,Nc3,Bg7,Qb3,Qc8,h4,Nf6,Bh3,Nbd7,e4,c5,Be3,O-O,e5,cxd4,exf6,Bxf6,Nd5,dxe3,Nxf6+,exf6,fxe3,Re8,O-O-O,Nc5,Bxc8,Nxb3+,axb3,Raxc8,e4,Rc6,h5,Re5,hxg6,fxg6,Rd5,f5,Re1,fxe4,fxe4,g5,Kd2,h5,Kd3,Kg7,Kd4,Rxd5+,exd5,Rc7,b4,g4,c5,dxc5+,bxc5,h4,d6,Rd7,Ke5,Kg6,Ke6,Rd8,Ke7,Rh8,Re6+,Kg5,Rf6,h3,Rf8,Rh7+,Rf7,Rxf7+,Kxf7,h2,d7,h1=Q,d8=Q+,Kf4,Qc7+,Kg5', 'Qe5+,Kh4,Qh8+,Kg3,Qxh1', 'https://lichess.org/training/l2vaR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l2VIP', 'Rapid', 'kero101', 1774, 'Plyuta156', 1815, 'd4,d5,c4,Nf6,Nc3,e6,Bf4,Bd6,Bg3,Bxg3,hxg3,h6,e3,Ne4,cxd5,exd5,Bd3,Bf5,Nge2,Nxc3,Bxf5,Nxd1,Rxd1,c6,O-O,O-O,g4,Nd7,f4,Nf6,g5,hxg5,fxg5,Ne4,Rf4,Nxg5,Rdf1,f6,Ng3,Qb6,R1f2,Rae8,e4,Qxd4,exd5,Qxd5,Bg6,Re1+,Kh2,Qxa2,Nf5,Qa1,Rf1,Rxf1', 'Ne7+,Kh8,Rh4+,Nh7,Rxh7#', 'https://lichess.org/training/l2VIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2Vwr', 'Rapid', 'trickjarrett', 1805, 'wrigley', 1743, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Qe2,O-O,Nc3,Re8,O-O-O,h6,Bh4,Bd6,Bxf6,gxf6,Qd2,Kg7,Nxd5,Be6,Bc4,c6,Nf4,Bxf4,Qxf4,Bxc4,Qg4+,Kh7,Qf5+,Kg8,Qh5,Qd5,Qxh6,Be2,Rde1,Na6,Qxf6,Bxf3,Qxf3,Qxd4,Rd1,Qg7,Rd7,Nb4,Kb1,Qg6,Qc3,Nd5,Qb3,Qxg2,Rd1,Qxf2,Qg3+,Qxg3,hxg3,Rab8,Rf1,Kf8,Rdxf7+,Kg8,a3,Re7,Rxe7,Nxe7,Rf4,Rf8,Re4,Rf1+,Ka2,Nd5,g4,Kg7,g5,Kg6,c4,Rf4,Re6+,Kxg5,cxd5,cxd5,Re7,Kg6,Rxb7,Rf7,Rxf7,Kxf7,Kb3,Ke6,Kc3,Ke5,Kd3,a5,b3,d4,b4,a4,Kc4', 'Ke4,b5,d3,Kc3,Ke3,b6,d2,b7,d1=Q', 'https://lichess.org/training/L2Vwr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2vzE', 'Rapid', 'terrapin', 2262, 'pariskiller', 2319, 'd4,Nf6,Bg5,d5,c4,dxc4,e3,b5,a4,c6,axb5,Ne4,Bf4,cxb5,f3,Nd6,e4,e6,Nc3,Qb6,b3,Nc6,d5,e5,Bg3,b4,Bf2,Nd4,Na4,Qc7,bxc4,Nxc4,Ne2,b3,Nxd4,Bb4+,Ke2,Ba6,Qd3,exd4,Bxd4,Ne5,Qxa6', 'Qc2+,Ke3,Qd2#', 'https://lichess.org/training/L2vzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L2w4D', 'Classical', 'deperito', 1807, 'chilli7up', 1826, 'c4,e5,Nc3,Nf6,g3,Bb4,Bg2,O-O,Nf3,Nc6,O-O,Re8,d3,Bxc3,bxc3,d5,cxd5,Nxd5,c4,Nb6,Bb2,Nd4,e3,Nxf3+,Bxf3,c6,c5,Nd7,d4,exd4,exd4,Nf6,Qb3,Rb8,Rfe1,Be6,Qa3,a6,Qb4,Nd5,Qd2,Qf6,Be4,h5,Bc1,h4,Qg5,hxg3,hxg3,Qxd4,Qh4,Nf6', 'Bh7+,Nxh7,Qxd4', 'https://lichess.org/training/L2w4D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l2WJ0', 'Blitz', 'learningkid', 1794, 'Drallale', 1846, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,O-O,d6,h3,Nf6,Re1,Be6,Bxe6,fxe6,e5,dxe5,Rxe5,Qd7,d3,Bd6,Rg5,O-O-O,Na3,h6,Ra5,b6,Rxa7,Kb8,Nb5,Qxb5,c4,Qe5,f4,Qc5,Qa4,Nh5,Ra8+,Kb7,Ra7+,Kb8,b4,Qf5,c5,Nxf4,cxd6,Ne2+,Kh1', 'Qf1+,Kh2,Qg1#', 'https://lichess.org/training/l2WJ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l2YDy', 'Rapid', 'amirmohammd', 1914, 'louras', 1850, 'e4,e5,f4,exf4,Nf3,d5,e5,Nc6,d4,f6,Bxf4,Bg4,Bb5,Bb4+,c3,Ba5,O-O,fxe5,dxe5,Ne7,Qd3,Bb6+,Kh1,Bxf3,Rxf3,O-O,Rh3,Ng6,Bxc6,bxc6,Bg3,Qg5,Nd2,Be3,Nf3,Rxf3,gxf3,Rf8,Rf1,Bc5,f4,Qe7,b4,Bb6,a4,a5,b5,cxb5,Qxd5+,Kh8,f5,Qa3,Qxb5,Qxc3,fxg6', 'Rxf1+,Qxf1,Qc6+,Qg2,Qc1+,Be1,Qxe1+,Qf1,Qxf1#', 'https://lichess.org/training/l2YDy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l2YJd', 'Rapid', 'jhontarisfrimahadi', 1951, 'Proktophantasmist17', 2049, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Be7,Bf4,c6,e3,O-O,Be2,a6,O-O,Nbd7,Qc2,dxc4,Bxc4,b5,Bd3,Bb7,e4,c5,e5,Bxf3,exf6,Bxf6,gxf3,cxd4,Ne2,Rc8,Qd2,Nb6,Rad1,Nd5,Bg3,e5,Be4,Qd7,Qd3,g6,f4,exf4,Nxf4,Nxf4,Bxf4,Bg7,h4,Rfe8,h5', 'Qg4+,Bg2,Qxf4', 'https://lichess.org/training/l2YJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l30oB', 'Blitz', 'CM jacobomelendez', 2276, 'ciccio_sprint', 2232, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c4,Nf6,Nc3,Bg4,Bd3,e6,O-O,Bxf3,Qxf3,Nxd4,Qg3,dxc4,Bxc4,Rc8,Bd3,Be7,Be3,Nc6,Qxg7', 'Rg8,Qxg8+,Nxg8', 'https://lichess.org/training/l30oB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L3aFc', 'Rapid', 'Player11321', 1754, 'ngocquy719', 1765, 'c4,e5,Nc3,Nf6,g3,Bc5,Bg2,O-O,Nf3,Re8,d4,exd4,Nxd4,c6,O-O,d5,cxd5,cxd5,Nb3,Bb6,Nxd5,Nxd5,Bxd5,Nc6,Bf3,Bh3,Re1,Nd4,Be3,Nxf3+,exf3,Qf6,Bxb6', 'Rxe1+,Qxe1,Qxf3,Qf1,Bxf1', 'https://lichess.org/training/L3aFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L3Ahv', 'Blitz', 'FM Mkarp', 2232, 'aristippo', 2039, 'Nf3,d6,d4,f5,c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,O-O,c6,d5,c5,Qc2,Nbd7,b3,Ng4,Bb2,Nge5,Ng5,Nb6,a4,h6,Ne6,Bxe6,dxe6,Rb8,a5,Na8,Nd5,Nc7,f4,Ng4,Bxg7,Kxg7,Qc3+,Kh7,Nxc7,Qxc7,h3,Nf6,e4,fxe4,g4,b5,f5,g5,Rfe1,bxc4,bxc4,Rb4,Bxe4,Rfb8,Bc2,Qb7,h4,Rb2,hxg5,hxg5,Re2,Qb4,Qh3+,Kg7,Rh2,Rg8', 'Qh6#', 'https://lichess.org/training/L3Ahv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l3aPV', 'Rapid', 'Bakay1957', 1674, 'abousef77', 1702, 'e4,e5,Bc4,Qe7,d3,h6,Nc3,Nc6,f4,d6,fxe5,Nxe5,Nd5,Qd7,Bb3,c6,Nc3,a6,Nf3,Qg4,O-O,Nxf3+,Rxf3,Nf6,Bxf7+,Kxf7,Bf4,Qg6,e5,dxe5,Bxe5,Bg4,Rxf6+,gxf6,Qf1,Be7,Re1,Rae8,Ne4,Rhf8,Bd6,Bf5,Bxe7,Rxe7', 'Nd6+,Kg8,Rxe7', 'https://lichess.org/training/l3aPV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L3BMi', 'Rapid', 'Jeffrey_A', 1882, 'RookMeRookYOU', 1853, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Nxe4,d5,Bxd2+,Nbxd2,Nxd2,dxc6,Nxf3+,Qxf3,O-O', 'cxb7,Bxb7,Qxb7', 'https://lichess.org/training/L3BMi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l3CYM', 'Rapid', 'McCoyski', 2066, 'ArtKi', 2069, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,Nf3,Nc6,dxc5,O-O,Bg5,Bxc5,e3,Be7,a3,b6,Be2,Bb7,O-O,Re8,Rad1,Rc8,Qd3,h6,Bxf6,Bxf6,Qxd7,Bxc3', 'Qxb7,Qc7,Qxc7', 'https://lichess.org/training/l3CYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l3GJA', 'Blitz', 'TheBulletMeister', 1918, 'emini', 1934, 'e4,b6,d4,Bb7,Bd3,d6,Nf3,g6,O-O,Bg7,Nc3,h6,Re1,Nc6,d5,Ne5,Nxe5,Bxe5,f4,Bd4+,Be3,Bg7,Kh1,a6,Bf2,Nf6,e5,Nxd5,Nxd5,Bxd5,c4,Bb7,e6,f5,Bxf5,gxf5', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/l3GJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L3GOh', 'Rapid', 'overplayd', 1875, 'Cristianx_o', 1795, 'e4,e5,Nf3,Nc6,c3,Nf6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Be7,Re1,Nd7,Nd2,c5,Nf1,O-O,Be3,Bf6,Qc2,Re8,Rab1,Qe7,Bf4,Ne5,b3,Bg5,Bg3,Bh4,c4,Rab8,Qd2,Bg5,Qe2,Qe6', 'f4,Bxf4,Bxf4', 'https://lichess.org/training/L3GOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L3H7r', 'Classical', 'TaiMoShan81', 1855, 'Magic_Skill', 1824, 'e4,e6,d4,d5,e5,c5,c3,Ne7,f4,Ng6,Nf3,Be7,Bd3,Bh4+,Nxh4,Qxh4+,g3,Qd8,dxc5,b6,Be3,Bb7,Bb5+,Bc6,Qa4,Qc7,cxb6,Qb7,Bxc6+,Nxc6,bxa7,O-O,Qb3,Qd7,Na3,d4,Rd1,Qxa7,Nb5,Qxa2,Qxa2,Rxa2,Bxd4,Rxb2,Nd6,Nge7,O-O,Ra8,Rf2,Rb3,Rc2,Nd5,c4,Ndb4,Rc3', 'Nxd4,Rxb3,Nxb3', 'https://lichess.org/training/L3H7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L3lUP', 'Rapid', 'SJZB', 1956, 'Olaf_14', 2093, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,c6,Bf4,d5,e3,Be7,Be2,O-O,O-O,Nbd7,Rc1,Ne4,cxd5,exd5,Qb3,g5,Bc7,Qe8,Ne5,Nd2,Qd1,Nxf1', 'Bh5,Nxe5,Bxe8', 'https://lichess.org/training/L3lUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L3MhY', 'Rapid', 'simi_andresito', 1630, 'ZacheryWagner', 1711, 'c4,e5,e4,c5,d3,Nf6,h3,d6,Nc3,Nc6,Nf3,h6,a3,a5,Be2,Be7,Bd2,Bd7,Rb1,O-O,Be3,Nd4,Nd5,Nxf3+,Bxf3,Nxd5,cxd5,b5,O-O,b4,axb4,axb4,Qd2,f5,Ra1,f4,Bxc5,dxc5,Qc2,Bd6,Rxa8,Qxa8,b3,Bb5,Rd1,Rc8,Bg4,Rc7,Rc1,g5,Qd2,Qa3,Rb1,Ra7,Kh2,Qa2,Rb2,Qa6,Qe2,Bxd3,Be6+,Kg7,Qh5,Bxe4,Qe8,Ra8,Qd7+,Kh8,Qf7,Qa7,Qf6+,Kh7,Bf5+,Bxf5,Qxf5+,Kg7,Qe6,Qe7,Qf5,Qf7,Qe4,Kf6,f3,Qg6,Qe2,Ra7,Qb5,Qf7,Qb6,Qe7,Qb5,e4,fxe4,Qxe4,Re2,Qxd5,Qb6,Re7,Rxe7,Kxe7,Qa7+,Ke6,Qg7,Qxb3', 'Qg8+,Ke5,Qxb3', 'https://lichess.org/training/L3MhY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L3reZ', 'Rapid', 'Agenteexterno', 1667, 'erikyx0', 1696, 'd4,f5,Nc3,e6,e4,fxe4,Nxe4,d5,Nc3,Nf6,Bd3,Bd6,Nf3,O-O,Ne5,c5,Nf3,cxd4,Nxd4,Be5,Be3,Ng4,f4,Nxe3,Qe2,Bxd4,Nb5,Rxf4,Nxd4,Rxd4,Qxe3,Nc6,O-O,e5,Qf3,e4', 'Qf7+,Kh8,Qf8+,Qxf8,Rxf8#', 'https://lichess.org/training/L3reZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l3seL', 'Blitz', 'Dangis', 2286, 'CM FdoVzla1986', 2452, 'd4,f5,Nf3,Nf6,Bg5,g6,e3,Bg7,c4,O-O,Nc3,d6,h4,Qe8,Bxf6,exf6,h5,f4,hxg6,hxg6,Qd2,fxe3,fxe3,Nc6,Be2,Bg4,O-O-O,Qf7,Rdf1,Rfe8,d5,Nd8,Ng5,Qd7,Nh3,Nf7,Nf4,Bxe2,Qxe2,Ne5,e4,Qg4,Qxg4,Nxg4,Nxg6,Ne3,Rf3,Nxc4,Rfh3,Ne5,Nf4,Kf7,Ne6,Rh8,Rh7,Rag8,Nb5,Nd3+,Kc2,Nf2,R1h4,Rxh7,Rxh7,Nxe4,Nbxc7,Ng5,Nxg5+,fxg5,Ne6,Kg6,Rxg7+,Rxg7,Nxg7,Kxg7,g4', 'Kf6,Kd3,Ke5', 'https://lichess.org/training/l3seL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L3taS', 'Classical', 'Logvin_Michael', 1874, 'ahmedpsicholog', 1721, 'e4,c5,Nf3,d6,Bc4,e6,O-O,a6,a4,Nf6,Nc3,Nbd7,d4,cxd4,Nxd4,Qc7,b3,Be7,Bg5,b6,f4,Bb7,Qd3,Rc8,Bxf6,Bxf6,Nce2,Nc5,Qe3,Nxe4,g4,d5,Bd3,g5,Rac1,gxf4,Qxf4,Be5,Qh6,Rg8,h3,Bh2+,Kg2,Be5,Nf3,Ke7,Nxe5,Qxe5,Qxh7,Rg7,Qh4+,Kd7,Qe1,Ng5,Nf4,d4+,Kg3,Qxe1+,Rcxe1,Rcg8,Nh5,f5,Nf6+,Kd6,Nxg8,Rxg8,h4,Ne4+,Bxe4,Rxg4+,Kf3', 'Bxe4+,Rxe4,Rxe4', 'https://lichess.org/training/L3taS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l3tvS', 'Classical', 'dasu40', 1732, 'seq-social', 1857, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,h3,Bg7,O-O,e5,d3,Be6,Ng5,Qd7,f4,exf4,Bxf4,Bxb2,Nxe6,Qxe6,Nd2,Bxa1,Qxa1,f6,Bg5,Qe5', 'Bxf6,Qxa1,Bxa1', 'https://lichess.org/training/l3tvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l3vMr', 'Blitz', 'Maroczychile', 2304, 'CM Iyael', 2212, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Bg5,h6,Be3,Nc6,Nge2,a6,Qd2,Kh7,d5,Ne5,Nd4,Rb8,Be2,c5,Nc2,e6,dxe6,Bxe6,b3,Qe7,Rd1,Rfd8,O-O,Ne8,h3,Nc6,f4,f5,Bf3,fxe4,Nxe4,Bf5,Nf2,Bxc2,Qxc2,Qxe3,f5,Nd4,fxg6+,Kh8,Qb1,Nxf3+,gxf3,Qxf3,Rd3,Qf5,Qd1,Qxg6+,Kh1,Be5,Rg1,Qf5', 'Rf3,Ng7,Rxf5', 'https://lichess.org/training/l3vMr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L3WtK', 'Rapid', 'dimbak275', 1696, 'Brain-_Tal', 1956, 'e4,d6,Nf3,Nf6,Nc3,e5,d4,exd4,Nxd4,Be7,Bd3,c5,Nf5,Bxf5,exf5,d5,O-O,c4,Be2,O-O,Bf3,d4,Nb5,d3,cxd3,cxd3,Bg5,h6,Bh4,Nc6,Re1,a6,Nc3,Re8,Bxf6,Bxf6,Nd5,Rxe1+,Qxe1,Nd4,Be4', 'Nc2,Qd1,Nxa1', 'https://lichess.org/training/L3WtK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l3Yi4', 'Rapid', 'nedelja99', 1791, 'Clash_God', 1821, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,e5,Qa5+,Nc3,Qxe5+,Be3,Qc7,Bb5,a6,Ba4,b5,Bb3,Bb7,Rg1,Nc6,h4,h5,f3,Bb4,a3,Bxc3+,bxc3,O-O-O,a4,Nd5,Bxd5,exd5,axb5,axb5,Nxb5,Qg3+,Bf2,Rde8+,Kf1,Qe5,g3,Nb8,Kg2,g5,Bd4,Qe2+,Kh3', 'g4+,fxg4,hxg4#', 'https://lichess.org/training/l3Yi4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L3yOH', 'Blitz', 'WGM Blabla73', 2250, 'norba94', 2338, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,a6,Be2,Nc6,O-O,Bg4,Be3,e6,h3,Bh5,Ng5,Bg6,Bf3,O-O-O,Nge4,Qd7,Nxf6,gxf6,d5,Nb4,dxe6,fxe6,Qe2,Nxc2,Rad1,Bd6,Ne4,Nxe3,Nc5,Qb5', 'Bxb7+,Qxb7,Nxb7', 'https://lichess.org/training/L3yOH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l44Dy', 'Rapid', 'virginiano23', 2061, 'BacillusAntracis', 2073, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,Nf3,Bg4,h3,Bh5,Ba4,e6,d4,Qa5+,Nc3,Bb4,Bxc6+,bxc6,Bd2,Ne7,a3,Bxc3,Bxc3,Qa6,g4,Bg6,Ne5,O-O,Bb4,Rfe8,Qf3,f6,Nxg6,Nxg6,h4,e5,O-O-O,Qc4,Kb1,a5,Bc5,Rab8,h5,Nf4,Rhe1,Rb7,b3,a4,b4,Ne6,Qd3,Nxc5', 'Qxc4,dxc4,dxc5', 'https://lichess.org/training/l44Dy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L46A0', 'Rapid', 'ryanefiles', 1814, 'omergursoy', 1826, 'd4,Nf6,Bf4,d5,e3,Nc6,Bd3,Bg4,Nf3,e6,h3,Bh5,g4,Bg6,g5,Ne4,Ne5,Nxe5,Bxe5,f6,gxf6,gxf6,Bxe4,Bxe4,f3,fxe5,fxe4,Qh4+,Kd2,Qxe4,Nc3,Qg2+,Qe2,Qg3,Rag1,Qh4,Qb5+,c6,Qxb7,Rd8,Qxc6+,Kf7,Qc7+,Ke8,Qc6+,Rd7,Qxe6+,Be7,Qxe5,Rb7,Qxh8+,Kd7,Qe5,Rxb2,Qxd5+,Kc7,Nb5+,Kb6,Qe6+,Kxb5,Rb1', 'Qf2+,Kc1,Qxc2#', 'https://lichess.org/training/L46A0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L48L6', 'Rapid', 'ESP666897', 1987, 'engrtaps', 2005, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,d3,Ng4,Be3,Bxe3,fxe3,Qg5,Qe2,Nxe3,Qd2,Be6,Nd1,Qh4+,g3,Nxf1,Rxf1,Qh5,Ne3,O-O-O,Nf5,Rhe8,Nxg7,Qg4,Nxe8,Rxe8,Rf4,Qh5,Qe2,Qa5+,c3,c5,a3,Qb6,O-O-O,Qb3,Qc2,Qa2,Qb1,Qb3,d4,cxd4,Rxd4,c5,Rd2,Kc7,Qd3,Qa2,Qd6+,Kc8,Qd3,b6,Rh4,c4,Qc2,Rh8,e5,Kc7,Rxh7', 'Qa1+,Qb1,Qxb1+', 'https://lichess.org/training/L48L6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l49AY', 'Classical', 'default_boi', 1695, 'UpGoerFive', 1634, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Be7,Qc2,Nbd7,cxd5,cxd5,Rc1,O-O,e3,b6,a3,Bb7,Be2,a5,O-O,Bc6,Nb5,Bxb5,Bxb5,Rc8', 'Qxc8,Qxc8,Rxc8,Rxc8,Bxd7', 'https://lichess.org/training/l49AY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l4Eq6', 'Rapid', 'VegardB', 1627, 'larsonco', 1672, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,c5,Bg5,f6,exf6,Nxf6,Ne5,cxd4,Bb5+,Bd7,Qxd4,Bxb5,Nxb5,Nc6,Qe3,Nxe5,Qxe5,Kf7,O-O-O,Be7,Rhe1,Ne4,Bxe7,Qxe7,f3,Qg5+,Qxg5,Nxg5,Nd4,h5,Re5,Kf6,Rde1,Rhe8,h4,Nf7', 'Rxe6+,Rxe6,Rxe6#', 'https://lichess.org/training/l4Eq6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L4F3I', 'Blitz', 'Sabby9', 1777, 'Bareeh', 1860, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Bc4,h6,O-O,Nf6,Nc3,O-O,Be3,Nc6,f4,Nxd4,Bxd4,Be6,Bb3,Bxb3,axb3,c5,Be3,a6,Qd2,b5,f5,b4,Bxh6,bxc3,Qg5,Nh5,Qxh5,gxh6,Rf3,Bg5,Rg3,cxb2,Rb1,f6,h4,Qe8,Qf3,Qe5,hxg5,hxg5,Rh3,Rf7', 'Qh5,Rg7,Qh8+,Kf7,Qxa8', 'https://lichess.org/training/L4F3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L4gTm', 'Rapid', 'JamesAdam', 1620, 'JBerman', 1640, 'e4,c5,d3,g6,Qf3,Bg7,c3,Nc6,Be2,d6,h4,Nf6,Qg3,Qc7,h5,O-O,hxg6,fxg6,Bh6,Qb6,b3,Ne5,Bxg7,Kxg7,Nd2,Nfg4,Qh4,h5,Ngf3,Qc7,Nxe5,dxe5,Bxg4,hxg4,Qh7+,Kf6,Rh6,Ke6,Nc4,Rf6,O-O-O,b5,Rxg6,bxc4,dxc4,Qa5,Rxf6+,exf6,Qf5+,Kf7,Qh7+,Ke6,Kb2,Ba6,Qg6,Qb6,Qf5+,Kf7,Qd7+,Kg8,Qxg4+,Kf7,Rd7+,Ke8,Qg7,Qe6,Rd1,Rb8,Rh1,Qe7,Rh8+,Kd7,Qg4+,Kc7,Rxb8,Kxb8,Qg8+,Kc7,Qa8,Kb6,Qh8,Bb7,f3,f5,Qh6+,Kc7,exf5,e4,f6,Qf7,Qg7,Qd7,f7,Qd2+,Ka3', 'Qc1+,Ka4,Bc6+,Ka5,Qa3#', 'https://lichess.org/training/L4gTm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L4i6Y', 'Rapid', 'SWITMOL', 1923, 'Metro57', 1919, 'e4,e5,f4,exf4,Nf3,h6,d4,g5,Bc4,d6,O-O,Bg4,Qd3,Be7,h3,Bh5,Nc3,Nf6,e5,dxe5,Nxe5,O-O,Bd2,Nbd7,Nxd7,Qxd7,Rae1,Bg6,Qxg6+,Kh8,Qxh6+,Nh7,d5,Bf6,Ne4,Bg7,Qh5,f6,Nc3,c6,Bd3,f5,dxc6,Qxc6,Bxf5,Rxf5,h4,Kg8,Re7,Raf8,Ree1,g4,Qxg4,f3,gxf3,Rxf3,Rxf3,Rxf3,Bh6,Rf7,Re6,Qc5+,Kh1', 'Rf1+,Kh2,Qf2+', 'https://lichess.org/training/L4i6Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l4IZS', 'Blitz', 'ruslanrichi', 1967, 'Amir_Okha', 1959, 'e4,Nc6,d4,d5,e5,Bf5,c3,f6,f4,e6,Nf3,Nh6,h3,Be7,Bd3,Be4,O-O,O-O,Qc2,fxe5,fxe5,Bxf3,Bxh7+,Kh8,Rxf3,Rxf3,gxf3,Bg5,Bd3,Bxc1,Qxc1,Qh4,Kh2,Qf2+,Kh1,Rf8,Bf1,Qxf3+,Bg2,Qf2,Nd2,Nf5,Nf1,Nh4,Qg5,Rf5,Qg4,g5,Ne3,Qxb2,Nxf5,Qxa1+,Kh2,exf5,Qxg5,Nxg2,Qxg2,Qxc3,Qxd5,Qe3,Qf7,f4,Qh5+,Kg7,Qg5+,Kh7,Qh5+,Kg8,Qg6+,Kf8,Qf6+,Ke8,e6,Qxd4', 'Qf7+,Kd8,Qf8#', 'https://lichess.org/training/l4IZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L4J3b', 'Blitz', 'Younesmat', 1796, 'Christopher94', 1822, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,dxc4,Bxc4,Bd6,Nge2,O-O,O-O,Nc6,a3,Bg4,f3,Bf5,Ng3,Bxg3,hxg3,Bd7,Be3,Na5,Ba2,Qe7,Qd2,b5,Rfe1,Qd6,Nxb5,Bxb5,Qxa5,Bc6,Rac1,Bxf3,gxf3,Qxg3+,Kf1,Qxf3+,Bf2,Ne4,Rc2', 'Ng3+,Kg1,Qh1#', 'https://lichess.org/training/L4J3b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L4jXt', 'Rapid', 'eshaghiarshia2008', 1842, 'IM Klimenko_Sergey_IM', 2291, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nf6,Nf3,Bg4,Be2,e6,Be3,Nc6,Qa4,O-O-O,Nbd2,cxd4,Bxd4,e5,Be3,e4,Bc4,Qa5,Qxa5,Nxa5,Ne5,Nxc4,Ndxc4,Be6,Nd2,Nd5,Bxa7,b6,c4,Nb4,Bxb6,Rd6,Bc5,Nc2+,Ke2,Nxa1,Nxe4,Ra6,Rxa1,f6,Bxf8,fxe5,Bxg7,Bxc4+,Ke3,Rg8,Bxe5,Bxa2,Nc5,Ra5,Rc1,Ra8,Na4+,Kd8,Nb6,Ra6,Rc8+,Ke7,Rc7+,Ke6,Rc6+,Kf5,Rf6+,Kxe5', 'Nd7+,Kd5,Rxa6', 'https://lichess.org/training/L4jXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l4njJ', 'Blitz', 'Maxwhyter_68', 2421, 'FM munster1', 2569, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,Nc3,Qb6,Na4,Qa5+,c3,Bxd4,Qxd4,Nf6,Be3,Nc6,Qd1,Nxe4,Bd3,Nf6,O-O,O-O,Nc5,d5,f4,Qc7,Qf3,b6,Nb3,e5,fxe5,Nxe5,Qe2,Ng6,Rad1,Re8,Qd2,Ng4,Bf4,Nxf4,Rxf4,g5', 'Rxg4,Bxg4,Qxg5+', 'https://lichess.org/training/l4njJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l4odk', 'Rapid', 'nnannov', 1694, 'pabloka', 1615, 'e4,c5,Nf3,Nf6,Nc3,e6,Bc4,a6,a4,Qa5,d3,b5,Ba2,b4,Bd2,bxc3,Bxc3,Qxa4,Bxf6,gxf6,Bxe6,Qc6', 'Bd5,Qb6,Bxa8', 'https://lichess.org/training/l4odk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l4yTe', 'Blitz', 'NM PhantomAnton', 2477, 'demkovichav', 2466, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,d5,e5,Nc6,Nc3,Bg4,Be2,Bxf3,Bxf3,e6,O-O,a6,Be3,Nge7,Qd2,O-O,g4,f6,exf6,Bxf6,Bg2,b5,Rfe1,Qd7,Bh6,Bg7,Bxg7,Kxg7,Re2,Rae8,Rae1,Nc8,a3,Nd6,Qd3,Qf7,Qg3,Qd7,h4,Nxd4', 'Qe5+,Kg8,Qxd4', 'https://lichess.org/training/l4yTe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l4yYH', 'Classical', 'Alchessmesi', 1754, 'MisterLR', 1700, 'e4,c6,d4,d5,e5,Bf5,Bd3,Qd7,Nf3,e6,Bxf5,exf5,O-O,c5,Nc3,cxd4,Qxd4,Nc6,Qxd5,Qxd5,Nxd5,O-O-O,Ne3,g6,Nc4,Nd4,Nxd4,Rxd4,b3,Bg7,Nd6+', 'Rxd6,exd6,Bxa1', 'https://lichess.org/training/l4yYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l50kU', 'Blitz', 'dercanfame', 1562, 'FrankShore', 1532, 'e4,c5,Nf3,Nf6,Bc4,a6,a4,d6,Nc3,e5,O-O,Be7,h3,O-O,d3,Nc6,Nd5,Nxd5,Bxd5,Be6,c4,Bxd5,cxd5,Nd4,Nxd4,cxd4,Bd2,Rc8,Rc1,f5,Bb4,a5,Rxc8,Qxc8,Bxa5,f4,Qc1,Qa8,Qc7,Re8,Rc1,Bf6,b4,Bd8,Qxd6,Bxa5,bxa5,Qxa5,Qd7,Rf8,Rc8,Qe1+,Kh2,Qxf2', 'Qe6+,Kh8,Rxf8#', 'https://lichess.org/training/l50kU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L54e8', 'Blitz', 'Black_Wiktor', 1726, 'Malvod', 1714, 'e4,e5,Nf3,Nf6,Nc3,Bb4,d4,Nxe4,Bd2,Nxd2,Qxd2,Qf6,dxe5,Qc6,O-O-O,Bxc3,Qxc3,Qxc3,bxc3,Nc6,Bc4,O-O,Ng5,Nxe5,Bd3,Nxd3+,cxd3,d5,Rhe1,c6,Re7,Be6,f3,Rfe8,Rxb7,Rab8,Rxa7,c5,Nxe6,Rxe6,Rd2,h6,Ra3,Re1+,Kc2,Rbb1,d4,c4,Rf2,Rec1+,Kd2,Rh1,h3', 'Rb2+,Ke3,Re1+,Kf4,Rxf2,Ra8+,Kh7', 'https://lichess.org/training/L54e8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l55sG', 'Rapid', 'Dragon2332', 1861, 'GMriccardobergamini', 1755, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d5,e3,Bg4,c5,O-O,Be2,c6,O-O,Nbd7,b4,Bxf3,Bxf3,e5,Bb2,e4,Be2,a6,a4,h5,b5,Rb8,Rb1,axb5,axb5,h4,h3,Nh7,b6,Ng5,f4,exf3,Bxf3,Nf6,Bg4,Bh6,Bc1,Nge4,Nxe4,Nxe4,Qf3,f5,Bh5,gxh5,Qxh5,Qg5,Qxg5+,Bxg5,Ra1,Kg7,Kh2,Kg6,Rf3,Bf6,Bb2,Ng3,Bc3,Bg5,Be1,Ne4,g3,hxg3+,Bxg3,Nxg3,Rxg3,Kf6,Rag1,Bh4,Rg6+,Kf7,Rg7+,Ke6,Rh7,Bf2,Rg6+,Rf6,Rgg7,Re8,Rxb7,Bxe3,Rbc7,Bf4+,Kh1,Bxc7,Rxc7,Rb8,Rxc6+,Kf7,Rc7+,Kg6,b7,f4,c6,f3,Kg1,Kf5,Kf2,Kf4', 'Rc8,Rxc6,Rxb8', 'https://lichess.org/training/l55sG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l581J', 'Blitz', 'FM laguun', 2465, 'IM Takacsbl', 2575, 'b3,e5,Bb2,Nc6,e3,a6,c4,Nf6,Nc3,d5,cxd5,Nxd5,a3,Nxc3,Bxc3,Bd6,Qc2,O-O,Nf3,Qf6,d3,Bf5,Be2,Rfe8,h3,Rad8,Qb2,Qe7,g4,Bg6,b4,b5,h4,h5,gxh5,Bxh5,Rg1,f6,Nxe5,Nxe5,Bxe5,Bxe5,d4,Bxe2,dxe5,Bf3,exf6,Qd7', 'Rxg7+,Kf8,Rxd7', 'https://lichess.org/training/l581J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l59pa', 'Blitz', 'KayraBurak2012', 1544, 'DavidDoesChess', 1543, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,a6,d4,b5,Bb3,c4,Bc2,Bb7,O-O,Be7,Re1,Nf6,Bg5,O-O,Nbd2,h6,Bxf6,Bxf6,e5,Bg5,Nf1,Rc8,Qe2,f6,exf6,Bxf6,Qe4,Nxd4,Qh7+,Kf7,Nxd4,Bxd4,Rad1,Bxf2+,Kxf2,Qf6+,Kg1,Ke7,Ng3', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/l59pa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l5aqf', 'Blitz', 'kompenta', 2036, 'WFM ryzhaya', 2141, 'c4,e6,d4,d5,Nc3,c6,cxd5,exd5,Nf3,Nf6,Bg5,Be7,e3,Bf5,Bd3,Bxd3,Qxd3,Nbd7,O-O,O-O,Rfe1,Ne4,Bf4,Bd6,Nxe4,Bxf4,exf4,dxe4,Rxe4', 'Nc5,Qb1,Nxe4', 'https://lichess.org/training/l5aqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l5BFc', 'Rapid', 'kazi_han', 1846, 'SEM2006', 1720, 'e4,d5,exd5,Nf6,d4,Qxd5,Nf3,Bg4,Nc3,Bxf3,gxf3,Qd7,Bg2,Nc6,Be3,O-O-O,h4,Nxd4,Bh3,Ne6,f4,Qxd1+,Rxd1,Rxd1+,Kxd1,Kb8,Re1,c6,f5,Nc7,Bc5,Ncd5,Nxd5,Nxd5,c4,Nb6,Bxe7,Bxe7,Rxe7,Nxc4,b3,Nd6,Rd7,Ne4,Ke1,Rf8,f3,Nc3,a4,Nd5,Kd2,Kc8', 'f6,Kb8,fxg7,Rg8,Rxf7', 'https://lichess.org/training/l5BFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l5gHg', 'Rapid', 'Sjavadm', 1903, 'SamDooley', 2033, 'e4,c5,b4,b6,Nf3,Nc6,c3,g6,Bc4,Bg7,O-O,Nxb4,cxb4,Bxa1,Nc3,Bxc3,dxc3,Bb7,Ne5,e6,Bb5,Nf6,Bg5,O-O,Nxd7,Qc7,Nxf6+,Kg7,Qd2,Rfd8,Bh6+,Kh8,Qg5,cxb4,Ne8,Qxc3,Nf6,Qc5,Qh4,Qxb5,Nxh7,Qh5', 'Qf6+,Kxh7,Qg7#', 'https://lichess.org/training/l5gHg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l5hcn', 'Rapid', 'kaptn1', 1944, 'Nicco01', 2004, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,g3,d6,Bg2,Nf6,Nc3,e5,Nb3,Be7,O-O,O-O,f4,Bg4,Qd2,a5,a4,Nb4,Nb5,Rc8,c3,Na6,fxe5,dxe5,Qxd8,Rfxd8,Nxa5,Nc5,Be3,b6,b4,Nxa4,Rxa4,bxa5,Rxa5,Be2,Rc1,Bxb5,Rxb5,Rc4,Rxe5,Bd6,Rb5,Nxe4,Bxe4,Rxe4,Bf2,Rc4,Rd5,Be7,Rxd8+,Bxd8,Bd4,Be7,Kf2,Bxb4,Rb1,Bd6,Ke2,f6,Kd3,Rc8,Rb6,Bc5,Bxc5,Rxc5,Kd4,Rc7,c4,Kf7,Rd6,Ke7,c5,Ra7,Kd5,Ra2,Re6+,Kd7,c6+,Kd8,Rd6+,Kc8,Re6,h5,Re8+,Kc7,Re7+,Kd8,Rxg7,Rd2+,Ke6,Rxh2,Rg8+,Kc7,Kd5,Rd2+,Ke6,Kxc6,Kxf6,Rd6+,Kf5,Rd5+,Kf4,Kd6', 'Rd8+,Kc5,Rxd5+', 'https://lichess.org/training/l5hcn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L5jex', 'Rapid', 'skuasu', 1692, 'chessoogle', 1746, 'c4,c5,g3,Nc6,Nc3,d6,Bg2,Nf6,e3,e5,Nge2,Bg4,h3,Bh5,g4,Bg6,Ng3,Bd3,Qb3,Nb4,a3,Nc2+,Kd1,Nxa1,Qxb7,Rb8', 'Bc6+,Nd7,Bxd7+,Qxd7,Qxb8+', 'https://lichess.org/training/L5jex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l5jxq', 'Classical', 'joebpb', 2003, 'DABROWA', 1980, 'e4,c6,f4,d5,e5,Bf5,Nf3,e6,d4,c5,c3,cxd4,Bb5+,Nc6,Bxc6+,bxc6,cxd4,c5,O-O,cxd4,Qxd4,Ne7,Kh1,Nc6,Qa4,Qd7,Nc3,Bb4,Nd4', 'Nxd4,Qxb4,Nc2', 'https://lichess.org/training/l5jxq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L5kAl', 'Rapid', 'pochessnomu', 1687, 'SirbuR', 1630, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,O-O,Qf6,Bd5,c6,Bb3,Bxf3,Qxf3,Qxf3,gxf3,Nf6,d3,Nbd7,f4,Nc5,fxe5,Nxb3,axb3,dxe5,Be3,c5,b4,b6,bxc5,Bxc5,Bxc5,bxc5,Nc3,a6,Na4,Nd7,Rfb1,O-O,b4,cxb4,Rxb4,Rfb8,Rab1,Rxb4,Rxb4,Rb8,Rc4,h6,Rc7,Nb6,Nc5,a5,Ra7,Ra8,Rb7,Nc8,Na4,Nd6,Rb6,Ne8,Rb5,Nd6,Rxe5,f6,Rd5,Nf7,f4,Rc8,c4,Ra8,Kf2,g5,f5,Rd8,Rxa5,Rxd3,c5,Rd2+,Ke3,Rc2,Kd3,Rc1,Nc3,Ne5+,Kd4', 'Nc6+,Kd5,Nxa5', 'https://lichess.org/training/L5kAl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L5mkq', 'Blitz', 'karenesteves2', 1842, 'lemaumrc', 1943, 'd4,d6,e3,g6,f4,Bg7,Nf3,Nh6,e4,O-O,Bd3,Nd7,O-O,c6,c3,b5,e5,dxe5,fxe5,Nb6,Bd2,a6,Qc1,Nf5,g4,Nxd4,cxd4,Bxg4,Be3,Nd5,Nc3,Nb4,Be4,Rc8,a3,Nd5,Bh6,Nb6,Bxg7,Kxg7,Qe3,Nc4,Qf2,h6,b3,Na5,Rab1,Be6,Bc2,Qc7,Ne4,Nb7,b4,Qd7,Rfd1,Rcd8,Qg3,Bf5,Qf2', 'Bxe4,Bxe4,Qg4+,Qg3,Qxe4', 'https://lichess.org/training/L5mkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L5o9e', 'Blitz', 'Andrej-Nikita', 1865, 'Vladim01', 1979, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Nxc6,bxc6,g3,h6,Bg2,e6,e5,Nd5,Nxd5,cxd5,exd6,Bxd6,O-O,O-O,c4,Bb7,cxd5,exd5,Bxd5,Bxd5,Qxd5,Qc7,Be3,Rad8,Qf3,Qa5,a3,Be5,Rab1,Rb8,Qg4,Kh7,b4,Qc7,Bc5,Rfe8,Rbe1,Bf6,Qf5+,Kg8,Rd1,a5,Rd7,Qc8,Rfd1,axb4,axb4,Re5,Qd3,Qe8,Bd6,Re1+,Rxe1,Qxe1+,Kg2,Re8,b5,Qa1,b6,Re1,Bc7,Rg1+,Kh3,Qa2,Qe3,h5,b7,g6,b8=Q+,Kg7,Be5', 'Qe6+,g4,Qxg4#', 'https://lichess.org/training/L5o9e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l5OuJ', 'Rapid', 'J111888', 1789, 'Vivekgera', 1813, 'e4,e5,Bc4,Bc5,Nf3,d6,d4,exd4,Nxd4,Qf6,Be3,a6,O-O,Ne7,Nc3,O-O,Qd2,h6,Nf5,Nxf5,Bxc5,dxc5,exf5,Bxf5,Rac1,Nc6,Bd5,Rfd8,Qe3,Bg6,Qxc5,Rd6,Rfe1,Rb8,Qe3,Rdd8,Ne4,Bxe4,Qxe4,Qxb2,Bxc6,bxc6,Qxc6,Qxa2,Qxc7,Rbc8,Qb6,Rb8,Qc7,Rdc8,Qd7,Rxc2,Re8+,Rxe8', 'Qxe8+,Kh7,Qe4+', 'https://lichess.org/training/l5OuJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L5S39', 'Rapid', 'Geometry_Joe', 1614, 'Robertbaxter', 1604, 'e4,e6,d4,Qh4,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nf6,e5,Ne4,Qe2,d5,Nf3,Qe7,O-O-O,Nxc3,bxc3,a5,c4,a4,c5,Nc6,Qb5,Bd7,Qxb7,O-O,Qxc7,Nb4,Qd6,Qd8,Qb6,Nxa2+,Kd2,Rb8,Qxd8,Rfxd8,Ra1,Rb2,Bd3,a3,Rhb1,Nb4,Rxb2,axb2,Rb1,f5,Rxb2,Nc6,Bb5,Ne7,Bxd7,Rxd7,Rb8+,Kf7,Ng5+,Kg6,Nxe6,Kh6,Rd8,Ra7,Nf4,Nc6,Rd6+,Kg5,Ne6+,Kg4,Rxc6,g6,Rc7,Ra4,c6,Ra6,Rc8,h5,h3+,Kh4,Nf4,Ra4,e6,Rxd4+,Ke3,Re4+,Kf3,g5,e7', 'g4+,hxg4,hxg4#', 'https://lichess.org/training/L5S39');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L5tjE', 'Rapid', 'CaballoNegro27', 1822, 'LucasGelatti', 1845, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,c3,Bd6,O-O,Nf6,Re1,O-O,d4,exd4,e5,Bxe5,Nxe5,Re8,Bg5,h6,Bh4,g5,Bg3,Bf5,cxd4,Nd5,Nd2,f6,Nef3,Rxe1+,Qxe1,Qd7,Nb3,Re8,Qd2,b6,Re1,Rxe1+,Nxe1,Qe6,Nf3,g4,Nh4,Bc2,Nc1,f5,h3,f4,Bh2,g3,fxg3,fxg3,Bxg3,Qe4,Kh2,Ne3,Ne2', 'Nf1+,Kh1,Nxd2', 'https://lichess.org/training/L5tjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L5TkV', 'Rapid', 'Eissssssa', 1730, 'NaZeRhal', 1805, 'b4,e6,Bb2,Nf6,a3,c5,bxc5,Bxc5,d4,Be7,Nf3,d5,c3,Nc6,Nbd2,a6,e3,O-O,Be2,b5,O-O,Bd6,h3,e5,dxe5,Nxe5,c4,Nxc4,Nxc4,dxc4,Bxf6,Qxf6,Nd4,Bb7,Bf3,Bxf3,Nxf3,Rad8,Qc2,Qe7,a4,f5,axb5,axb5,Nd4,f4,exf4,Rxf4,Nxb5,Bc5,Rae1,Qf6,Re4,Rf8', 'Qxc4+,Kh8,Rxf4,Qxf4,Qxc5', 'https://lichess.org/training/L5TkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L5u7T', 'Blitz', 'Faridjalal', 1599, 'onetruepixd', 1646, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bc5,O-O,d6,Nd5,O-O,Bxc6,bxc6,Nxf6+,Qxf6,d3,h6,Be3,Bb6,Qd2,Bg4,Ne1,d5,Bxb6,cxb6,f3,Be6,c3,Qe7,f4,exf4,Rxf4,dxe4,dxe4,c5,Nf3,Rad8,Qe2,Qd7,Nh4,g5,Nf5,gxf4', 'Qg4+,Kh7,Qg7#', 'https://lichess.org/training/L5u7T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l5U9H', 'Blitz', 'TiNours', 1986, 'marianecoelho', 2040, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,Nf6,f3,O-O,Bc4,a6,Qd2,Qc7,Bb3,b5,O-O-O,Ne5,Kb1,d6,h4,Nc4,Bxc4,bxc4,h5,Nxh5,Rxh5,gxh5,Bh6,e5,Bxg7,Kxg7,Qg5+,Kh8,Qf6+,Kg8,Nd5,Qd8,Qh6,f6,Nf5,Bxf5,exf5,Rb8,Rh1,Rf7,Rxh5,Qf8', 'Nxf6+,Kh8,Qxh7+,Rxh7,Rxh7#', 'https://lichess.org/training/l5U9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L5uav', 'Rapid', 'warrick150', 1835, 'vikips', 1852, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,Be7,c3,Nf6,Bg5,h6,Bh4,O-O,h3,Na5,Nbd2,Nxc4,Nxc4,b5,Ne3,Nh7,Bxe7,Qxe7,Nd5,Qd8,O-O,c6,Ne3,Ng5,Nxg5,Qxg5,d4,Bxh3,dxe5,dxe5,Qf3,Be6,a3,f5,exf5,Bxf5,Qxc6,Bd3', 'Qd5+,Kh8,Qxd3', 'https://lichess.org/training/L5uav');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l5v9Z', 'Rapid', 'Hunalele', 2021, 'falcomat', 1925, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,e3,Nbd7,Bd2,a6,b3,c5,Bd3,Bd6,O-O,O-O,Qc2,Re8,cxd5,exd5,Rfd1,b5,dxc5,Nxc5,Bf5,b4,Ne2,Nce4,Ned4,Bb7,Rac1,Rc8,Qd3,Rxc1,Rxc1,g6,Bh3,Nd7,Nc6,Bxc6,Rxc6,Ndc5,Qc2,a5,Nd4,Qf6,f3,Ng5,Qxc5,Nxh3+,gxh3', 'Qg5+,Kh1,Bxc5', 'https://lichess.org/training/l5v9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L5vVd', 'Rapid', 'inversed', 1766, 'nikhilpandey', 1621, 'b3,d5,Bb2,c5,e3,Nc6,Nf3,f6,d4,e6,Nbd2,Bd6,c4,Nge7,cxd5,exd5,Bd3,Nb4,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,e4,dxe4,Nxe4,Bc7,Nxc5,Qf5,Re1,Rfe8,Qe2,Nc2,Nh4,Qg5,Nf3,Qf5,Qe6+', 'Qxe6,Rxe6,Nxa1', 'https://lichess.org/training/L5vVd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l5w9N', 'Rapid', 'HS2001', 2185, 'ffab', 1929, 'c4,e5,Nc3,Nf6,g3,Be7,Bg2,d6,e4,c6,Nge2,Bg4,h3,Be6,d3,Nbd7,f4,exf4,gxf4,a5,f5,Bxf5,exf5,b5,cxb5,cxb5,O-O,b4,Ne4,Rc8,Bg5,Nxe4,Bxe7,Qxe7,dxe4,Ne5,Nf4,O-O,Qh5,g6,Nd5', 'Qa7+,Kh2,gxh5', 'https://lichess.org/training/l5w9N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l5xIr', 'Blitz', 'vorlo', 1619, 'eduardodsl', 1582, 'Nf3,Nf6,d4,d5,c4,c5,e3,e6,a3,cxd4,exd4,Be7,Nc3,h6,Bd3,O-O,O-O,Nc6,Re1,dxc4,Bxc4,Bd7,d5,exd5,Nxd5,Nxd5,Bxd5,Rc8,Bf4,Re8,Qd2,Qb6,Be4,Bc5,Bxh6,gxh6,Qxh6,Bxf2+,Kh1,Bxe1,Ng5,Rxe4', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/l5xIr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L5y0z', 'Blitz', 'Empusa-Tartarska', 2088, 'ashutosh86', 1763, 'd4,d5,Nf3,e6,Bg5,Nf6,h4,h6,Bxf6,Qxf6,Nbd2,Bd6,c3,O-O,e4,dxe4,Nxe4,Qe7,Bd3,e5,d5,f5,Nxd6,cxd6,Bc4,Nd7,h5,Nb6,Bb3,Bd7,Nh4,Bb5,Ng6,Qf6,Nxf8,Rxf8,a4,Bc4,a5,Bxb3,Qxb3,Nd7,Qxb7,Nc5,Qb5,e4,O-O-O,Rf7,a6,Qe7,b4,Nd3+,Rxd3,exd3,Qxd3,Qc7,Re1,Rf8,Re6,Rc8,Kb2,Kf7,Qxf5+,Kg8,g4,Qxc3+,Ka2,Qd2+,Ka3,Rc3+,Ka4,Qa2+,Kb5,Qc4+,Ka4,Qa2+,Kb5', 'Qc4+,Ka4,Qxa6#', 'https://lichess.org/training/L5y0z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l5YSk', 'Blitz', 'Mini_0110', 2150, 'FM Pleurotus', 2334, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Nf6,Nc3,d6,Be2,Nxd4,Qxd4,Bg7,Be3,O-O,Qd1,a5,h4,a4,h5,Qa5,hxg6,hxg6,Bh6,Bxh6,Rxh6,Kg7,Rh1,Be6,Qd2,Rh8,Rxh8,Rxh8,O-O-O,a3,b3,Qc5,f4,Rh2,Bf3,Bg4,Bxg4,Nxg4,Re1,Qf2,Re2,Qg1+,Qd1,Rxg2,Qxg1,Rxg1+,Kc2,Ra1,b4,Rf1,f5,Ne5,fxg6,fxg6,Kb3,Rf3,c5,Kf6,Rd2,Ke6,cxd6,exd6,Kc2,g5,Nb5,Nf7', 'Nd4+,Ke5,Nxf3+', 'https://lichess.org/training/l5YSk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L61HX', 'Rapid', 'Rogeriolucio', 1750, 'Hurts_my_Head', 1876, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,Be7,Nc3,Nf6,d3,O-O,Be3,a6,a3,b5,Ba2,Bb7,Nd5,Nxd5,Bxd5,Na5,Ba2,c5,b4,cxb4,axb4,Nc6,c3,Bf6,Bd5,Qc7,O-O,Ne7,Ba2,Qxc3,Bg5,Bxg5,Nxg5,h6,Nxf7,Rxf7,Bxf7+,Kxf7,Qf3+,Kg8', 'Rac1,Qxb4,Rc7', 'https://lichess.org/training/L61HX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l61Vz', 'Blitz', 'PranavBobby01', 1601, 'TwinklingKnights', 1584, 'e4,Nc6,Nf3,e6,Bc4,Be7,d4,d5,exd5,exd5,Bb5,a6,Bxc6+,bxc6,Bf4,Bd6,Qd2,Nf6,Nc3,Rb8,Bg5,Rxb2,O-O,Bb4,Rfe1+,Be6,Ne5,Qd6,a3,Ba5,Rab1,Bxc3,Qxc3,Rxb1,Rxb1,Ne4,Qxc6+,Qxc6', 'Rb8+,Bc8,Rxc8#', 'https://lichess.org/training/l61Vz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l64sN', 'Rapid', 'sonderbaer', 1897, 'theprivypoet', 1814, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,c5,Bg5,Be7,Bxe7,Qxe7,Bb5,a6,Bxd7+,Nxd7,O-O,cxd4,Qxd4,O-O,h3,f6,Rfe1,b5,a3,Bb7,Rad1,Rac8,b4,fxe5,Nxe5,Nxe5,Qxe5,Rf5,Qxe6+', 'Qxe6,Rxe6,Rxc3', 'https://lichess.org/training/l64sN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l65Xu', 'Rapid', 'Kondratenk9', 1844, 'Mister707', 1866, 'e4,e6,c4,c6,d4,d5,cxd5,cxd5,e5,Nc6,Nf3,Nge7,Bd3,Ng6,h4,Bb4+,Nc3,O-O,Qc2,f5,exf6,Bxc3+,bxc3,Qxf6,Bg5,Qf7,h5,Nf4,Bxh7+,Kh8,Bxf4,Qxf4,Rh4,Qh6,Bd3,Bd7,Qd2,Qxd2+,Kxd2,Rae8,Re1,Rf6,Ke3,e5,dxe5,Nxe5,Kd2,Nxf3+,gxf3,Rxe1,Kxe1,Rxf3,Rd4,Bc6,Ke2,Rh3,Rf4,Kg8,Rf5,a6,Re5,Kf7,Bg6+,Kf6,Rf5+,Ke6,Kd2,Be8', 'Bxe8,Kxf5,Bd7+', 'https://lichess.org/training/l65Xu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l6Dkn', 'Classical', 'jansmil', 1987, 'QuietStorm24', 2052, 'e4,e6,d4,d5,exd5,exd5,Bd3,c5,dxc5,Bxc5,Bb5+,Nc6,Nc3,Nf6,Bg5,O-O,Nxd5,Bxf2+,Kf1,Bd4,Nxf6+,Bxf6,Qxd8,Bxd8,Bxd8,Rxd8,Bxc6,bxc6,Nf3,Bg4,Ne5,Bf5,Nxc6,Rd2,Ne7+,Kf8,Nxf5,Rad8,Ne3,f5,g3,g5,Re1,f4,gxf4,gxf4,Ng4,Rxc2,Nf2,Rxb2,Ra1,Rdd2,Ng4,h5,Nf6,Kf7,Nxh5,f3,Ng3,Rxa2,Rxa2,Rxa2,h4,a5,h5', 'Ra1+,Kf2,Rxh1,Nxh1,a4', 'https://lichess.org/training/l6Dkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l6f7g', 'Blitz', 'damon1350', 1696, 'alainelhajj9', 1679, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bc4,Bc5,O-O,O-O,a3,d6,h3,Be6,Ba2,Bxa2,Rxa2,Ne7,d3,h6,b4,Bb6,Na4,Ng6,Nxb6,axb6,c4,Re8,Nh2,Qd7,f4,exf4,Bxf4,Nxf4,Rxf4,c6,Raf2,Rxa3,Ng4,Nh7,Rxf7,Qxf7,Rxf7,Kxf7,d4,Rea8,Kh2,R3a4,Qd2,Ra2,Qf4+,Nf6,Nxf6,gxf6,Qxd6,Rc2,Qc7+,Kg6,Qxb7,Raa2,Qc8,Rxg2+,Kh1,Rgf2', 'Qg8+,Kh5,Qg4#', 'https://lichess.org/training/l6f7g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l6i8w', 'Blitz', 'cremasteric', 1503, 'heyooooooo', 1513, 'e4,e5,c3,Nf6,d3,Nc6,Nf3,g6,Be2,Bg7,b4,d6,Ba3,a5,b5,Na7,Nxe5,Nxb5,Nxf7,Kxf7,Qb3+,Be6,Qxb5,Qc8,O-O,Re8,d4,c6,Qg5,d5,e5,Ne4,Qf4+,Bf5,Bd3,Qe6,Bxe4,dxe4,Nd2,Kg8,Nxe4,Bxe4,Qxe4,Bf8,Bc1,Bg7,Bf4,Rf8,Bg3,Rae8,a4,Rf5,Rab1,Re7,h3,Ref7,Bh2,Qa2,e6,R7f6,e7,Re6,Qh4,Bf6,Qg3,Bxe7,Qb8+,Rf8,Qxb7,Bh4,Rb2,Qxa4,d5,cxd5,Qxd5,Qe4,Qxa5,Qe1,Qc5,Rfe8,Rb8', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/l6i8w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l6iet', 'Blitz', 'Kalov', 1564, 'valera1977', 2138, 'd4,e5,e3,Nc6,dxe5,Nxe5,Nf3,Ng6,Bd3,Nf6,b3,d5,Bb2,Be7,O-O,O-O,Nbd2,c5,c4,Be6,Rc1,Qa5,cxd5,Nxd5,e4,Ndf4,Nc4,Qc7,Bc2,Rad8,Qe1,Bxc4,bxc4,Qc8,Qe3,Qg4,g3,Rd7,Be5,Nxe5,Nxe5,Qg5,Nxd7,Nh3+,Kg2,Qg4,Nxf8,Bxf8,Qf3,Qe6,Rcd1,Ng5,Qe2,h6,f4,Nh7,e5,Qc6+,Kg1,Qc8,Bxh7+,Kxh7,Qe4+,Kg8,Rd6,Be7,Rfd1,b6,Rd7,g6,f5,Bg5,fxg6,Qa8,gxf7+,Kf8,Qh7', 'Be3+,Kf1,Qf3+,Ke1,Qf2#', 'https://lichess.org/training/l6iet');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L6JD1', 'Rapid', 'raphael94', 1975, 'Winterwanderer', 2030, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,e5,d3,Be7,Nge2,O-O,O-O,a6,f4,b5,f5,b4,Nb1,Bb7,Nd2,d5,h3,Qc7,g4,dxe4,dxe4,Rd8,Qe1,c4,g5,Nh5,Qh4,g6,Bf3,Ng7,f6,Bc5+,Kh1,Ne6,Nxc4,Bf8,b3,Nc6,Bg4,Ncd4,Bxe6,Nxe6,Bb2,Qc6,Ng3,Nd4,Nxe5,Qxc2,Nxf7,Kxf7,Qxh7+,Ke6,Bxd4', 'Bxe4+,Nxe4,Qxe4+,Kg1,Qxd4+', 'https://lichess.org/training/L6JD1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l6jjY', 'Rapid', 'VVT420ShakaZulu69', 1694, 'Westerv', 1738, 'e4,c5,Nf3,d6,g3,Nc6,Bg2,Nf6,d3,g6,O-O,Bg7,Nc3,O-O,Bg5,h6,Be3,d5,Bxc5,e6,Bxf8,Qxf8,exd5,Nxd5,Nxd5,exd5,Re1,Bxb2,Ne5,Bxe5,Rxe5,Nxe5,Bxd5,Qc5,Bg2,Ng4,Qe2,Be6,Bxb7,Re8,Re1,Qh5,Bf3,Qxh2+,Kf1,Kf8,Bg2,Bd7,Qf3,Rxe1+,Kxe1,Qg1+,Kd2,h5,Qa8+,Ke7,Qe4+,Be6,Qb7+,Kf6,Qb2+,Kg5', 'f4+,Kh6,Qh8#', 'https://lichess.org/training/l6jjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L6JMq', 'Rapid', 'Eribertoperez', 1921, 'Den89', 1958, 'e4,c6,f4,e5,Nf3,exf4,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Be2,Nc6,d4,Bd6,O-O,Nge7,c4,O-O,Nc3,dxc4,Bxc4,a6,Bd3,Bf5,d5,Bc5+,Kh1,Bxd3,Qxd3,Nb4,Qc4,Rc8,Bxf4,b5,Qb3,Nbxd5,Rad1,Qb6,Nxd5,Nxd5,Rxd5,Rfe8,h3,Be3,Rd6,Qc5,Rd5,Qc1,Rxc1,Rxc1+,Kh2', 'Bxf4+,g3,Re2#', 'https://lichess.org/training/L6JMq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L6kJi', 'Blitz', 'perobg', 1933, 'hugo80', 2017, 'c4,c6,Nc3,d5,cxd5,cxd5,e3,Nc6,d3,Nf6,g3,Bg4,Qd2,e6,Bg2,Bb4,a3,Bxc3,bxc3,O-O,Nf3,Bxf3,Bxf3,Rc8,O-O,b6,Bb2,Na5,Qc2,Qe7,Rac1,Qd7,Qd1,Qc7,c4,dxc4,Bxf6,gxf6,dxc4,Nxc4,Bh5,f5,Qd4,b5,Qf6,Qd8,Qh6,f6,Bf3,Nd2,Kg2,Nxf1,Rxf1,a5,Rd1,Qe7,Qf4,b4,h4,Rfd8,Rh1,b3,h5,Qg7,h6,Qg6,Bh5,Qg5,Qf3,Rc2,Qb7,Rxf2+,Kxf2,Rd2+,Kf3,Qxh6,Qc7,e5,Bf7+,Kg7,Rxh6', 'e4+,Kf4,Rf2#', 'https://lichess.org/training/L6kJi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L6luw', 'Rapid', 'Ereez', 1957, 'Mohamed36', 1906, 'c4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,d3,e6,e4,Nge7,Bg5,h6,Be3,Nd4,Nge2,Nec6,O-O,Nb4,Qd2,d6,Rac1,e5,a3,Nbc6,Nd5,Bh3,Bxh3', 'Nf3+,Kh1,Nxd2', 'https://lichess.org/training/L6luw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l6lvK', 'Rapid', 'Sorcel', 1889, 'Anonymous1996', 1803, 'e4,c5,Nf3,a6,Nc3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Nxd4,Qxd4,Ne7,Bg5,Nc6,Bxd8,Nxd4,O-O-O,Nxc2,Ba5,b5,Bb3,b4,Kxc2,bxc3,Bxc3,f6,Ba4,Ra7,Rd2,Rc7,Rhd1,Be7,Kb1,e5,Ba5,Rb7,Rc1,Kf7,Bb3+,Kg6,Rdc2,Rb8,Bc7,Rb7,Bd5,Rb4,Bxe5,fxe5,Rxc8,Rxc8,Rxc8,Rd4,Kc2,Bg5,Rd8,Rd2+,Kb3,Rxf2,Rxd7,Rxg2,Ra7,Rxh2,Rxa6+,Bf6,a4,h5,a5,h4,Be6,Rh1,Rc6,h3,a6,h2,Bf5+,Kg5,Rc2,Kf4,Ka2', 'Ra1+,Kxa1,h1=Q+', 'https://lichess.org/training/l6lvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l6LWT', 'Blitz', 'IM ChessExplained', 2572, 'IM Nozdrachev_Vladislav', 2763, 'Nf3,d5,e3,e6,c4,Nf6,Nc3,b6,b3,Bb7,Bb2,Be7,cxd5,exd5,d4,O-O,Bd3,Nbd7,O-O,a6,Ne2,Ne4,Ng3,Ndf6,Qc2,g6,Ne5,Bd6,Nxe4,Nxe4,f3,Ng5,f4,Ne4,Bxe4,dxe4,f5,Qg5,Qf2,Rad8,h4,Qe7,f6,Qe6,Qf4,Kh8,Qh6,Rg8,Rf2,c5,dxc5', 'Bxe5,Bxe5,Qxe5', 'https://lichess.org/training/l6LWT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L6oTw', 'Blitz', 'Herrie', 1542, 'DearthVader1298', 1505, 'e4,c5,Nc3,d5,exd5,Nd7,Nf3,Ngf6,Bb5,a6,Bxd7+,Bxd7,O-O,Bb5,Re1,Nxd5,Nxd5,Qxd5,d3,Qh5,c4,Bc6,Re3,e6,Qe1,Bd6,h3,O-O-O,Ne5,Bxe5,Rxe5,Qg6,Rg5,Qxd3,Rxg7,Rhg8,Rxf7,Rxg2+,Kh1,Rdg8,Qxe6+,Kb8,Bf4+,Ka7,Qxc6', 'Qxh3+,Bh2,Qxh2#', 'https://lichess.org/training/L6oTw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l6pJm', 'Rapid', 'marcusmaia', 1788, 'vlada555', 1787, 'e4,c5,c3,Nc6,Bd3,b6,Nf3,Bb7,O-O,e6,Bc2,Be7,d4,cxd4,cxd4,Nb4,Nc3,Nxc2,Qxc2,a5,Bf4,h6,d5,Nf6,d6,Bf8,e5,Nd5,Nxd5,Bxd5,Nd4,g5,Be3,Bg7,f4,Rc8,Qd2,f6,Nb5,Kf8,fxg5,Bc4,Nc7,Bxf1,Rxf1,f5,gxh6,Bxe5,g4,Qh4,gxf5,Bf6,fxe6', 'Rg8+,Bg5,Rxg5+,Qxg5,Qxg5+', 'https://lichess.org/training/l6pJm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L6rK6', 'Rapid', 'helmuthdenny', 1876, 'CHIGORIN5', 1786, 'g3,d5,c4,c6,Nf3,Bg4,Bg2,Bxf3,Bxf3,e5,Qa4,e4,Bg2,Qd7,Nc3,Nf6,O-O,Na6,cxd5,cxd5,Qxd7+,Kxd7,d3,exd3,exd3,Nc7,d4,Bb4,Bf4,Bxc3,bxc3,Rae8,Rab1,b6,a4,Ne4,Bxe4,Rxe4,Bxc7,Kxc7,Rfe1,Rhe8,Kf1,Rxe1+,Rxe1,Rxe1+,Kxe1,Kb7,Kd2,Ka6,Kc2,Ka5,Kb3,f5,f4', 'b5,axb5,Kxb5,c4+,dxc4+', 'https://lichess.org/training/L6rK6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l6tLj', 'Blitz', 'MgaPR', 2373, 'JoaoSzuba', 2220, 'e4,c5,c4,Nc6,Nc3,g6,g3,Bg7,Bg2,e6,Nge2,d6,O-O,Nge7,d3,O-O,Be3,a6,a4,Rb8,Qd2,Nd4,Rab1,Nec6,Bh6,Nxe2+,Nxe2,b5,axb5,axb5,Bxg7,Kxg7,b3,bxc4,bxc4,Rxb1,Rxb1,e5,f4,f6,Qb2,Rf7,Qb6,Rb7,Qxc6,Rxb1+,Kf2,Qd7,Qa8,Qb7,Qa5,Rb2,Bf3,Be6,Qd8,Qd7,Qa8,Bf7,Kg2,Qb7,Qd8,Qb6,Qd7,Qa6,h4,Rb7,Qd8,Qb6,Qc8,Ra7,h5,Qc7', 'h6+,Kxh6,Qf8#', 'https://lichess.org/training/l6tLj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l6tYx', 'Blitz', 'stopatakaka', 1744, 'KicsiG', 1721, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Nxc3,bxc3,e6,Nf3,b6,Bc4,Bb7,O-O,Nc6,Bf4,Bd6,Qd2,O-O,Ne1,Qf6,Bxd6,cxd6,f4,d5,Bd3,Na5,f5,Nc4,Bxc4,dxc4,Nf3,Qxf5,Ne5,Qe4,Nxc4,Ba6,Nd6,Qd5,Qf4,Bxf1,Rxf1,f6,c4,Qg5,Qe4,e5,Qd5+,Kh8,Nf7+,Rxf7', 'Qxa8+,Rf8,Qxf8#', 'https://lichess.org/training/l6tYx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L6wHb', 'Rapid', 'Dovhyi', 1967, 'Bill_Likes_Chess', 2041, 'e4,c6,d4,d5,f3,dxe4,Bc4,Nf6,Nc3,exf3,Nxf3,Bg4,O-O,e6,Bg5,Nbd7,Qd2,Be7,Rae1,Bxf3,Rxf3,O-O,Rh3,Nd5,Qd3,g6,Bh6,Re8,Ne4,N7f6,Ng5,Nf4,Nxf7,Nxd3,Nxd8,Bxd8,cxd3,Nd5,Rf3,Bc7,Ref1,Bd6,Rf7,Rab8,Rg7+,Kh8,Rd7,Bf8,Bxd5,exd5,Rxf8+,Rxf8,Bg7+,Kg8,Be5,Rf7', 'Rxf7,Kxf7,Bxb8', 'https://lichess.org/training/L6wHb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L6XFH', 'Rapid', 'Skino86', 1728, 'm_mete', 1711, 'Nf3,Nc6,g3,g6,Bg2,d5,O-O,e6,d4,Nf6,Nbd2,Bg7,c3,O-O,Re1,Re8,e4,b6,e5,Nd7,Rf1,Bb7,Kh1,f6,exf6,Nxf6,Ng1,Ne7,Qe2,Qd7,f4,Nf5,Ngf3,Ng4,Ne5,Bxe5,fxe5,Nge3,Rf2,Nxg2,Kxg2,c5,Qg4,cxd4,cxd4,Rac8,Nf3', 'Rxc1,Rxc1,Ne3+,Kh3,Nxg4', 'https://lichess.org/training/L6XFH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L70lN', 'Classical', 'Dima_Hippy', 1830, 'ahmed_bms_99', 1715, 'd4,Nf6,Nf3,g6,Bg5,d6,Bxf6,exf6,Nc3,Bd7,d5,Na6,e4,f5,Bxa6,bxa6,Qd4,f6,exf5,Bxf5,O-O-O,Be7,Rhe1,O-O,Nh4,Bd7,g4,f5,Ng2,Bg5+,Kb1,fxg4,Ne4,Bf6,Nxf6+,Qxf6,Qxf6,Rxf6,Rd2,a5,Re7,Rd8,b3,c6,dxc6,Bxc6,Ne3,Rf7,Rxf7,Kxf7,Nxg4,a4', 'Ne5+,dxe5,Rxd8', 'https://lichess.org/training/L70lN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l74Sh', 'Rapid', 'nikishar', 1825, 'M663', 1710, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Bxc3+,bxc3,Qe7,Qd5,f6,exf6,Nxf6,Qd3,d6,Bg5,O-O,e3,h6,Bh4,Qf7,Be2,Be6,O-O,g5,Bxg5,Ne5,Nxe5,dxe5,Bxh6,Rfd8,Qc2,e4,Bg5,Bf5,h4,Kh7,g4,Bg6,h5,Bxh5,gxh5,Rg8,f4,Rae8,Kf2,c5,Rh1,Rxg5,fxg5,Ng4+,Ke1', 'Qf2+,Kd1,Nxe3+,Kc1,Nxc2', 'https://lichess.org/training/l74Sh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L74zp', 'Blitz', 'FM Lion_Chess', 2407, 'Exgiocatore69', 2105, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,h3,O-O,Be3,Nbd7,Be2,e5,d5,Qe7,Qd2,a6,O-O-O,b5,a3,Nb6,g4,Bd7,Rdg1,Rfb8,Nh4,a5,Bh6,Bxh6,Qxh6,b4,Nb1,bxa3,Nxa3,Na4,Nf5,Bxf5,gxf5,Nxb2,h4,Na4,Rg3,Nxe4,h5,Nxg3,hxg6,fxg6,fxg3,Qg7,Qg5,gxf5,Qxf5,Rf8,Qe6+,Kh8,Bd3,Qg5+,Kb1,Rab8+,Ka1,h5,g4,h4,Qd7,Nc5', 'Qh7#', 'https://lichess.org/training/L74zp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l76no', 'Blitz', 'WeChessYoutube', 2441, 'FM DG_001', 2493, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Qd4,Qe7,f3,O-O,Bg5,d5,O-O-O,Bxc3,Qxc3,dxe4,Bxf6,gxf6,Qxc6,Bf5,fxe4,Bxe4,Qc3,Rad8,Bd3,f5,Rhe1,Qg5+,Kb1,Bxd3,Rxd3,Rxd3,Qxd3,Rd8,Qf3,Kg7,a3,Rd2,Qc3+,Kh6,Re3,Rxg2,Rh3+,Kg6,Qc6+,Kg7,Qxc7,f4,Qc3+,Qf6', 'Rxh7+,Kxh7,Qxf6', 'https://lichess.org/training/l76no');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L7bQY', 'Rapid', 'madnessboy21', 1744, 'raulinho83', 1771, 'd4,d5,Nf3,h6,c4,c6,Nc3,Nf6,cxd5,cxd5,Bf4,e6,h3,Bd6,Ne5,Nc6,e3,Ne4,Nxe4,dxe4,Bb5', 'Qa5+,Kf1,Qxb5+', 'https://lichess.org/training/L7bQY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L7eco', 'Classical', 'dontcallmeemyphant', 1705, 'boogieman2', 1885, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,e6,Bg5,Be7,Nc3,a6,Qe2,Nc6,O-O-O,b5,Nxb5,axb5,Bxb5,Bd7,a3,O-O,h4,h6,Bf4,Rb8,Bc4,d5,Bxb8,Qxb8,exd5,exd5,Bb3,Bg4,h5,Re8,Rh4,Nd4,Qe5,Nxb3+,cxb3,Qxb3,Qc3,c4,dxc4,dxc4,Rd3,Qa2,Rd4,Qa1+,Kc2,Bf5+,Kd2,Bd3,Rxc4,Bxc4,Rxc4,Nd5,Qb3,Bf6,Nd4,Qe1+,Kd3,Nf4+,Kc2,Qxf2+,Kb1,Bxd4,Qb5,Bxb2', 'Qxe8+,Kh7,Qe4+', 'https://lichess.org/training/L7eco');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l7Ga2', 'Blitz', 'braveheart312', 1729, 'dewa0000', 1863, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Nf6,d3,h6,O-O,Bd7,Nbd2,Be7,d4,a6,Ba4,exd4,cxd4,b5,Bb3,Bg4,h3,Bh5,Qc2,Qd7,e5,dxe5,dxe5,Nd5,Qd3,O-O-O,Bxd5,Qxd5', 'Qf5+,Kb8,Qxh5,g6,Qg4', 'https://lichess.org/training/l7Ga2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l7geu', 'Rapid', 'Alimpich', 2507, 'brunosten', 2528, 'd4,Nf6,Bg5,g6,Bxf6,exf6,e3,Bg7,c4,O-O,Nc3,d6,g3,f5,Bg2,c6,Nge2,Nd7,O-O,Nf6,b4,Be6,Qd3,d5,c5,Ne4,b5,b6,cxb6,c5,dxc5,axb6,c6,Ra3,Bxe4,dxe4,Qc2,Bc4,Rad1,Bd3,Qb2,Qe7,Nd5,Qd6,Qb4', 'Qxb4,Nxb4,Bxe2', 'https://lichess.org/training/l7geu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l7ghO', 'Rapid', 'barisrump', 2170, 'commysar', 1815, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,h6,O-O,Nf6,Re1,Be6,Bxe6,fxe6,c3,g5,d4,g4,hxg4,Nxg4,dxe5,Ncxe5,Bf4,Nxf3+,Qxf3,h5,e5,d5,c4,c6,Nc3,Qb6,cxd5,Bc5,Re2,cxd5,Na4,Qc6,Nxc5,Qxc5,Rc1,Qe7,Rec2,O-O,Rc7,Qh4,Bg3,Qg5,Qd3,Rf5,Qb5,Raf8,Qxb7,R5f7,Rxf7', 'Qxc1#', 'https://lichess.org/training/l7ghO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L7GJE', 'Classical', 'Talaat84', 2316, 'Trrak55', 2298, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nd2,Qb6,Qb3,c4,Qc2,Bg4,Ngf3,Qd8,Be2,e6,e4,Be7,O-O,O-O,Rfe1,Nd7,exd5,exd5,Nf1,Bh5,Ne5,Ndxe5,dxe5,Bg6,Qd2,Qa5,b4,Qa3,Ne3,Rfd8,Nxd5,Bf8,Bxc4,Rac8,Bb3,a5,b5,a4,bxc6,bxc6,Bg5,axb3,axb3', 'Rxd5,Rxa3,Rxd2,Bxd2,Bxa3', 'https://lichess.org/training/L7GJE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l7K29', 'Rapid', 'fbalun', 1945, 'NaotoMatsui', 2070, 'c4,Nf6,Nc3,e6,g3,Bb4,Bg2,c5,e3,Bxc3,dxc3,Nc6,a3,Qc7,Ne2,b6,O-O,Bb7,b4,Ne7,bxc5,Bxg2,cxb6,Qb7,bxa7,Bxf1,Qxf1,h5,Bd2,h4,e4,Nxe4,Be3,hxg3,fxg3,Nf5,Rb1,Qc6,Nd4,Nxe3,Nxc6,Nxf1', 'Rb8+,Rxb8,axb8=Q#', 'https://lichess.org/training/l7K29');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l7k44', 'Rapid', 'Mulyadi_2015', 2184, 'phoenix1313', 2096, 'd4,e6,c4,d5,Nc3,c6,e3,Bd6,Bd3,g6,Nge2,f5,b3,a6,Bb2,Nf6,O-O,O-O,Ng3,b5,cxd5,exd5,f3,f4,exf4,Bxf4,Kh1,Bxg3,hxg3,Qd6,f4,Bg4,Be2,Bxe2,Nxe2,Nbd7,a4,Ne4,Rf3,Ndf6,Ba3,b4,Bb2,Ng4,Kg1,a5,Qd3,Qf6,f5,gxf5,Nf4,Qh6,Nh3,Rf6,Raf1,Raf8,Bc1,Qg6,Rf4,h5,Qf3,Ng5,Nxg5,Qxg5,Qd3,Qg6,Re1,Qh7,Kf1,h4,Ke2,Re8+,Kd1,Rxe1+,Kxe1,hxg3,Qxg3,Qh1+,Kd2,Qh2', 'Rxg4+,fxg4,Qxh2', 'https://lichess.org/training/l7k44');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L7KSB', 'Rapid', 'Vagelis', 1640, 'Georgsu', 1634, 'd4,d5,Nf3,Nc6,a3,Nf6,Nbd2,e6,e3,Ne4,Bd3,f5,b3', 'Nc3,Bb2,Nxd1', 'https://lichess.org/training/L7KSB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l7naS', 'Rapid', 'Shamikus', 2040, 'hithivfor6', 2029, 'd4,Nf6,Bf4,e6,e3,Be7,Nf3,b6,Bd3,Bb7,Nbd2,O-O,g4,Nd5,Bg3,c5,c4,Nb4,Bb1,d5,a3,N4a6,h4,f5,gxf5,exf5,Rg1,Nd7,h5,dxc4,Bf4,cxd4,Bh6,Bf6,exd4,Re8+,Kf1,Nc7,Bxf5,Nd5,Qc2,Nf8,Bg5,Bxg5,Nxg5,h6', 'Bh7+,Nxh7,Qxh7+', 'https://lichess.org/training/l7naS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L7nih', 'Rapid', 'Drzaiusbilong123', 1939, 'Ahmad1486', 1960, 'e4,d5,exd5,Bf5,Nc3,e6,Bb5+,Nd7,dxe6,fxe6,Nf3,a6,Ba4,Nf6,O-O,Bd6,Re1,O-O,d4,Ng4,h3,Ngf6,Bg5,h6,Bh4,Qe8,Bb3,Qg6,Bg3,Bxg3,fxg3,Qxg3,Bxe6+,Bxe6,Rxe6,Rae8,Qe2,Kh8,Re1,Rxe6,Qxe6,Nb6,Ne4', 'Nxe4,Qxe4,Rxf3,Qe8+,Kh7', 'https://lichess.org/training/L7nih');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l7PC8', 'Blitz', 'ankitn', 1885, 'CosmicIdleness', 1970, 'e4,c5,Nf3,e6,Nc3,Nc6,d4,cxd4,Nxd4,Bb4,f3,d5,Bb5,Qb6,Bxc6+,bxc6,Ne2,Ba6,exd5,exd5,Qd4,Bc5,Qxg7,Bf2+,Kd1,O-O-O,Qxh8,d4,Ne4,d3,N2c3', 'dxc2+,Kxc2,Bd3+,Kd1,Bxe4+', 'https://lichess.org/training/l7PC8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l7q3T', 'Blitz', 'hdohdo_chess', 2199, 'CM CAMPOE', 2151, 'g3,d5,Bg2,c6,a4,e5,c4,Nf6,cxd5,Nxd5,Nc3,Nxc3,bxc3,Be7,Ba3,O-O,Bxe7,Qxe7,a5,Na6,Nf3,Bg4,d3,Rad8,Qa4,Bh5,O-O,Rfe8,Rab1,Rd7,Rb2,f6,Rfb1,Bf7,Nh4,g6,c4,Nc5,Qb4,Ne6,Nf3,Qd8,Qc3,Nd4,Nxd4,exd4,Qd2,Ree7,Qf4,Qxa5,Qxf6,Qf5,Qh4,Kg7', 'Bh3,Qxh3,Qxh3', 'https://lichess.org/training/l7q3T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L7SlN', 'Classical', 'nutmeg11111', 1616, 'dhaval765', 1628, 'e4,c5,e5,d6,exd6,exd6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,Nf6,O-O,Bxf3,Re1+,Be7,gxf3,O-O,Nc3,Nd7,Qg4,Ne5,Qg2,Bh4,Ne4,d5,Bh6,Ng6,Bxg7,Kxg7,Ng3,Kh8,Nh5,Rg8,Qf1,Nf4+,Ng3,Qd7,Kh1,d4,Qc4,Nh3,Rf1,Nf4,Rad1,Qh3', 'Qxd4+,Rg7,Qxf4', 'https://lichess.org/training/L7SlN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L7TqS', 'Blitz', 'NM Titus369', 2600, 'NM TrappedPiece', 2551, 'e4,e6,d4,d5,Nd2,c5,Ngf3,cxd4,exd5,Qxd5,Bc4,Qd7,O-O,Nf6,Nb3,Nc6,Nbxd4,Nxd4,Nxd4,a6,Re1,b5,Bd3,Bb7,c3,Bc5,Be3,Bd6,a4,b4,c4,O-O,Rc1,Qc7,h3,Rad8,Qe2,Bh2+,Kh1,Bf4,Nb3,Bxe3,Qxe3,Qc6,Bf1,Nd7,Na5,Qc7,Nxb7,Qxb7,b3,Qc7,c5,a5,Bb5,Nf6,c6,Nd5,Qc5,Nc3,Bc4,Rd6,Bb5,Rfd8,g3,Rd5,Qc4,Rd4,Qf1,Rd2,Re3,h6,Rf3,Rb2,Qc4,Rbd2,Re1,R2d4,Qf1,e5,Kg2,e4,Rf4,g5,Rf5,R4d5,Rxd5,Rxd5,Qc4,Re5,Qd4,Re7,Re3,h5,Qc5,Re5,Qd4,h4,gxh4,gxh4,Qd7,Rg5+,Kf1,Qh2', 'Qd8+,Kg7,Qxg5+', 'https://lichess.org/training/L7TqS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l7uxl', 'Rapid', 'concernedjumpy', 1512, 'Navon', 1506, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nxc6,bxc6,Be2,Nf6,Nc3,Be7,O-O,h6,Bf3,Bd7,Qe2,a5,e5,dxe5,Qxe5,O-O,Ne4,Nxe4,Qxe4,Re8,Qd3,a4,a3,Bc5,Bd2,f6,Qc4+,Be6,Qxc5,Qxd2,Qxc6,Bd7,Qc4+,Be6,Rfd1', 'Qxd1+,Rxd1,Bxc4,Bxa8,Rxa8', 'https://lichess.org/training/l7uxl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L7wFD', 'Rapid', 'Ricardobeltran', 2195, 'zmilenko5', 2085, 'e4,e5,Nf3,Nf6,Bc4,Nc6,O-O,Nxe4,Re1,d5,Bb3,Bc5,d4,Nxd4,Nxd4,Bxd4,Be3,Bxb2,Nd2,Bxa1,Qxa1,Nxd2,Qxe5+,Be6,Bxd2,O-O,Bc3,Qf6,Qxc7,d4,Bb2,Rab8,f3,Rfc8,Qd6,Rd8,Qb4,b6,Re4,a5,Qe1,Rd6,Qg3,Bf5,Bxd4,Rxd4', 'Qxb8+,Qd8,Re8+,Qxe8,Qxe8#', 'https://lichess.org/training/L7wFD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L7wpe', 'Blitz', 'capablanca_malaga', 1618, 'NickTheBrick', 1618, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,h3,Be7,Bd3,Nbd7,O-O,b6,c3,O-O,Bf4,h6,Nbd2,g5,Bh2,Nh7,Ne5,Nxe5,Bxe5,f6,Bh2,Rf7,Qc2,Rg7,Rae1,Bd6,Bxd6,cxd6,Nf3,Bd7,Bf5,Bxf5,Qxf5,Qd7,Re6,Re8,Rfe1,Rxe6,Qxe6+,Qxe6,Rxe6,Rd7,g4,Kf7,Re2,Nf8,Ne1,Ng6,Nd3,Re7,Rxe7+,Kxe7,Kg2,a5,Kf3,Ke6,Ke3,f5,f4,gxf4+,Nxf4+,Nxf4,Kxf4,fxg4,hxg4,Kf6,b3,b5,a3,a4,bxa4,bxa4,Kg3,Kg5,Kf3,h5,gxh5,Kxh5,Kf4,Kg6,Kg4,Kf6,Kf4,Ke6,Kg5,Kf7,Kf5,Ke7,Kg6,Ke6,Kg7,Kf5,Kf7,Ke4,Ke6,Kd3,Kxd5,Kxc3,Kxd6,Kxd4,Kc6', 'Kc4,Kb6,Kb3,Kb5,Kxa3,Kc4,Kb2', 'https://lichess.org/training/L7wpe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L8106', 'Rapid', 'kimuraal', 2037, 'Olepmac', 2074, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,a6,Bc4,g6,Be3,Bg7,Qd2,Ne5,Bb3,Ng4,O-O-O,Nxe3,fxe3,Nf6,Rdf1,Bd7,h3,b5,g4,b4,Na4,e6,Qg2,O-O,h4,Qa5,h5,gxh5,gxh5,Nxh5,Rxh5,Qxh5,Nb6,Rad8,Rf3,Kh8,Nxd7,Rxd7,Rh3,Qg6,Qh1,d5,exd5,exd5,Nf3,Qe4,Qh2,d4,Ng5,Qe5', 'Rxh7+,Kg8,Rh8+,Bxh8,Qh7#', 'https://lichess.org/training/L8106');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L82aK', 'Rapid', 'ArrowniteEZ', 1870, 'Freymi', 1780, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nc3,g6,Nf3,Bg7,Be2,O-O,O-O,Re8,c5,N6d7,cxd6,cxd6,Bc4,Nc6,Nb5,Nf6,Qb3,Re7,Ng5,Be6,Nxe6,fxe6,Bxe6+,Kh8,d5,a6,Nc3,Nd4,Qc4,Nxe6,dxe6,Rc8,Qe2,d5,Bg5,Qd6,Rfd1,d4,Ne4,Qxe6,Bxf6,Bxf6,f3,Bg7,Qd3,Rd7,a3,Qb6,Rab1,Rdc7,b4,a5,Nc5,axb4,axb4,Qd6,Ne4,Qb6,Nc5,Re8,Re1,Qc6,b5', 'Rxe1+,Rxe1,Qxc5,Re8+,Bf8', 'https://lichess.org/training/L82aK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l89Gk', 'Blitz', 'DarkoCG', 1609, 'hollowbird', 1984, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Be3,Be7,Nge2,O-O,g3,c6,Bg2,Bf5,O-O,Nbd7,Nf4,Re8,h3,h6,Qd2,Bd6,Rae1,Ne4,Bxe4,Bxe4,Nxe4,Rxe4,f3,Re8,Kg2,Qf6,Nh5,Qg6,g4,f5,Ng3,Rxe3,Rxe3,f4,Nf5,fxe3,Qxe3,Re8,Qd3,Bf8,Ne7+,Rxe7,Qxg6,Re2+,Kg3,Nf6,h4,Bd6+,f4,Ne4+,Kf3,Rxc2,Qe8+,Kh7,h5,Rxb2,Re1', 'Rf2+,Ke3,Bxf4+,Kd3,Rd2#', 'https://lichess.org/training/l89Gk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l8bV4', 'Rapid', 'KotBarsik', 1658, 'ksthp0', 1746, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,a5,Bxb4,axb4,b3,O-O,e3,d6,Qd2,Nc6,Bd3,b6,O-O,Bb7,e4,e5,d5,Nd4,Nxd4,exd4,Qxb4,c5,Qd2,Bc8,f3,Re8,Bc2,Qe7,b4,Nh5,bxc5,bxc5,a4,Qf6,Na3,Nf4,Nb5,Re7,Bd1,Qg5,g3', 'Nh3+,Kh1,Qxd2', 'https://lichess.org/training/l8bV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L8cjX', 'Rapid', 'prometheuskbb', 1672, 'trapaclash', 1706, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,Nbd2,Be6,Bb5,Nb6,Nxe5,Qd5,Bxc6+,bxc6,d4,Qxg2,Rf1,f6,Nef3,Bh3,Qe2+,Be7,b3,Nd5', 'Rg1,Qg6,Rxg6', 'https://lichess.org/training/L8cjX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L8dw4', 'Blitz', 'HomoChiroptera', 1564, 'meshari', 1533, 'd4,Nf6,Bg5,g6,e3,Bg7,Nf3,d6,c4,O-O,Bd3,Bg4,Nbd2,Nbd7,O-O,h6,Bh4,g5,Bg3,Nh5,Rb1,Nxg3,fxg3,e5,Be2,Qe7,dxe5,dxe5,Ne1,Bxe2,Qxe2,Rad8,Qf3,Nc5,Ne4,f5,Nxc5,Qxc5,Nc2,Rd2,Na3,e4,Qh5,Qxe3+,Kh1,Qe2,Rg1,Bd4,Qxe2,Rxe2,Rgf1,Bxb2,Nb5,Be5,h3,Rd8,Rxf5,Bxg3,Rbf1,Kg7,Nxc7,Rdd2,Rf7+,Kg6,R7f6+,Kh5,Ne6,Rxg2', 'Ng7+,Kh4,Rxh6#', 'https://lichess.org/training/L8dw4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L8hZF', 'Blitz', 'came14', 1665, 'Simen_S', 1677, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,Ne4,O-O,Bb4,c3,dxc3,Bxf7+,Kf8,Nxc3,Nxc3,bxc3,Bxc3,Ng5,Bxa1,Ba3+,d6,exd6,cxd6,Bxd6+,Ne7,Re1,Bf6,Bxe7+,Bxe7', 'Qxd8+,Bxd8,Re8#', 'https://lichess.org/training/L8hZF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L8IxD', 'Rapid', 'Coolplay2013', 1777, 'JUNG198184', 1871, 'd4,e6,Nf3,Nf6,Nc3,Bb4,h3,d5,a3,Ba5,b4,Bb6,Bf4,a6,e3,Nc6,Bd3,Bd7,O-O,Qe7,Re1,h6,e4,dxe4,Nxe4,Nxe4,Bxe4,O-O-O,c4,g5,Bh2,Rdg8,c5,Ba7,Qd3,f5,Bxc6,Bxc6,Qc4,Bd5', 'Qxd5,exd5,Rxe7', 'https://lichess.org/training/L8IxD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L8izK', 'Rapid', 'GordonRyan', 2219, 'anan193', 2172, 'e4,c5,Nf3,d6,g3,Nc6,Bg2,g6,O-O,Bg7,d3,Nf6,Nc3,O-O,Nd2,Bd7,Nc4,a6,a4,Rb8,Nd5,Nxd5,exd5,Ne5,a5,Nxc4,dxc4,b5,axb6,Qxb6,Ra3,Bxb2', 'Rb3,Bf6,Rxb6', 'https://lichess.org/training/L8izK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l8LTv', 'Rapid', 'Anipsitakis', 1864, 'Hell-On-Earth', 1935, 'd4,d5,c4,dxc4,e3,Nf6,Nc3,e6,a3,a6,Bxc4,Be7,Nf3,O-O,O-O,b5,Ba2,Bb7,Ng5,Nbd7,Bxe6,fxe6,Nxe6,Qe8,Nxf8,Nxf8,f3,Ng6,e4,Rd8,Be3,c5,Qb3+,c4,Qc2,Qc6,d5,Qd6,Bd4,Ne5,f4,Nc6,Bxf6,Bxf6,dxc6,Bxc6,e5,Qc5+,Kh1,Bh4,Ne4,Qd5,Rad1', 'Qxe4,Qxe4,Bxe4,Rxd8+,Bxd8', 'https://lichess.org/training/l8LTv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l8m5C', 'Blitz', 'gengemes', 1530, 'drwhonow', 1513, 'd4,g6,c4,Bg7,Nc3,d6,Nf3,Nd7,e4,Ngf6,Be2,O-O,h3,Re8,Be3,e6,Qd2,b6,O-O-O,c5,d5,exd5,cxd5,Ne5,Nxe5,Rxe5,f3,Re8,g4,Bd7,h4,b5,h5,gxh5,gxh5,b4,Nb1,a5,Rdg1,Kf8,Bh6,Bxh6,Qxh6+,Ke7,Qg5,Rg8,Qh4,c4,f4,Kf8,Bf3,c3,bxc3,Rc8,Kd2,bxc3+,Nxc3,Qc7,Ne2,Qc2+,Ke1,Nxe4,Rxg8+,Kxg8,Rg1+,Kf8,Kf1,Nd2+,Kf2,Nxf3,Kxf3,Qd3+,Kf2,Rc2', 'Qd8+,Be8,Qxd6#', 'https://lichess.org/training/l8m5C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l8nlM', 'Rapid', 'ahmad___salehi1367', 1711, 'F_Guerrini', 1720, 'e4,e5,Nc3,d6,Nf3,Nf6,h3,Be7,Bb5+,Nc6,Nd5,a6,Nxf6+,Bxf6,Bxc6+,bxc6,O-O,O-O,d4,exd4,Nxd4,c5,Nf5,Bb7,Re1,Re8,Ng3,Be5,Qf3,Qf6,Qxf6,Bxf6,Bf4,Bxb2,Rab1,Bc3,Re3,Bd2,Rf3,Bxf4,Rxf4,Bc6,Re1,Re5,Rf5,Rae8,Rxe5,Rxe5,f3,d5,Rd1,h6,Nf5,dxe4,Rd8+,Re8', 'Ne7+,Kh7,Nxc6', 'https://lichess.org/training/l8nlM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l8ntm', 'Classical', 'Rlando88', 1824, 'UMVSPARTAN', 1862, 'e4,c5,Nc3,e6,g3,Nc6,Bg2,a6,f4,Qc7,Nf3,d6,O-O,Be7,d3,Nf6,Ne2,b5,h3,Bb7,g4,O-O,Ng3,Rac8,f5,h6,g5,hxg5,Nxg5,Nh7,Qh5,Nxg5,Bxg5,Bxg5,Qxg5,Qe7', 'f6,Qxf6,Rxf6', 'https://lichess.org/training/l8ntm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l8NYh', 'Blitz', 'FM Yuriy1980', 2220, 'Jensenpascual_26', 2079, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,Nf3,Nxc3,bxc3,g6,g3,Bg7,Bg2,O-O,O-O,Bg4,Qa4,Qc8,Ba3,Re8,Rab1,c6,Qb3,b6,Rfe1,h6,d4,Bh3,Bh1,Nd7,e3,Nf6,Bb2,Ng4,Qd1,Rb8,c4,Qf5,Qe2,g5,Bg2,Nf6,Ne5,g4,Nxc6', 'Bxg2,Kxg2,Qe4+', 'https://lichess.org/training/l8NYh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l8Qcu', 'Rapid', 'petrovich59', 2096, 'ajfirecracker', 1872, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,Bd3,Bxd3,Qxd3,e6,Bf4,Be7,Nh5', 'Qa5+,Nd2,Qxh5', 'https://lichess.org/training/l8Qcu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L8ri9', 'Rapid', 'FenrirFtc', 2052, 'ustachifuu', 2014, 'd4,d5,Bf4,Nc6,Nf3,Bf5,e3,Nf6,h3,Ne4,Nbd2,e6,c4,Bb4,a3,Bxd2+,Nxd2,a5,Be2,a4,Rc1,h6,Bf3,Qh4,Nxe4,dxe4,Be2,O-O,Bxc7,Qg5,g4,Bg6,Bf4,Qh4,Kf1,f5,Bg3,Qf6,gxf5,Qxf5,Bg4,Qg5,Bxe6+,Kh8,Qg4,Qxe3,Kg2,Qf3+,Qxf3,exf3+,Kh2,Nxd4,Bd5,Ne2,Rce1,Rac8,Bxf3,Nxg3,Kxg3,Rxc4,Bxb7,Rc2,Re7,Rxb2,f3,Rb3,h4,Rxa3,h5,Bc2,Rhe1,Ra2,Rc7,Bb3,Ree7,Rg8,Bc6,Ra1,Be4,Rg1+,Kf2,Rg5,Bg6,a3,f4,Rg4,Kf3,Rg1,Be4,a2,Rc6,a1=Q', 'Rxh6+,gxh6,Rh7#', 'https://lichess.org/training/L8ri9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l8Ul6', 'Rapid', 'karimbenbourenane', 1643, 'JosueAlmeida', 1716, 'e4,e5,Nf3,d6,Bc4,Nf6,d3,h6,a3,Bg4,Be3,Nc6,c3,Qd7,Nbd2,O-O-O,Bb5,a6,Qa4,axb5,Qa8+,Nb8,Ba7,Qc6,Bxb8,Kd7,O-O,Be7,Qa5,Rxb8,c4,bxc4,Nxc4,Bxf3,gxf3,Ra8,Qc3,h5,Rfd1,h4,d4,exd4,Rxd4,Nh5', 'Ne5+,Ke6,Nxc6', 'https://lichess.org/training/l8Ul6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l8VKB', 'Rapid', 'formula1Gambit', 1937, 'nadershah123', 1772, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,g3,d6,Bg2,Re8,e4,e5,d5,Bg4,Be3,Na6,a3,Nc5,Bxc5,dxc5,O-O,a6,a4,Qd6,Qc2,Rab8,h3,Bc8,Rab1,c6,b3,cxd5,cxd5,b5,axb5,axb5,Ra1,Ba6,Rfd1,Ra8,Ng5,h6,Nf3,Nd7,Qe2,b4,Nb5,Qb6,Nd2,Bxb5,Nc4,Bxc4,Qxc4,Rxa1,Rxa1,Qd6,Ra6,Nb6,Qb5,Rb8,h4,f5,Qd3,Rf8,exf5,gxf5,Qb5,Rb8,Bh3,Qxd5,Rxb6,Rxb6,Qxb6,Qxb3,Bxf5,Qd1+,Kg2,Qd5+,Kh2,b3', 'Be6+,Qxe6,Qxe6+', 'https://lichess.org/training/l8VKB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L8x8E', 'Rapid', 'mas201414', 2083, 'M0hammed', 2199, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nb6,Nf3,Bf5,Nc3,Na6,a3,c5,d5,g6,h3,Bg7,Bd3,Qd7,O-O,Bxc3,bxc3,Bxd3,Qxd3,Qa4,Nd2,Qd7,Ne4,Qa4,Re1,O-O,Bh6,Qxc4,Qxc4,Nxc4,Bxf8,Kxf8,a4,Rd8,Red1,Ke8,a5,h6,Kf1,f6,Ra4', 'Nb2,Raa1,Nxd1', 'https://lichess.org/training/L8x8E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L8zTk', 'Rapid', 'acioly44', 1755, 'takingitlate', 1684, 'c4,e5,g3,Nc6,Bg2,Nf6,e3,Bc5,Ne2,O-O,O-O,d6,a3,Bg4,f3,Be6,b3,d5,d4,Be7,c5,b6,b4,bxc5,bxc5,exd4,exd4,Re8,Be3,Qd7,Qa4,Bh3', 'Bxh3,Qxh3,Qxc6', 'https://lichess.org/training/L8zTk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L8zUX', 'Rapid', 'quickfinger', 2078, 'Jazzmann', 2043, 'e4,c5,Nf3,Nf6,e5,Nd5,d4,e6,c4,Nc7,d5,d6,Nc3,Be7,Bf4,dxe5,Bxe5,f6,Bg3,exd5,cxd5,Bd6,Nb5,Bxg3,hxg3,O-O,Bc4,Nxb5,Bxb5', 'Qa5+,Kf1,Qxb5+', 'https://lichess.org/training/L8zUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l90q7', 'Classical', 'Panman89', 1702, 'MS_Chess', 1697, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Nf3,Bd6,Be2,O-O,O-O,Bf5,Re1,h6,a3,Nbd7,Na2,c6,b3,Qb6,c4,Qc7,c5,Bf4,Bxf4,Qxf4,g3,Qc7,Nc3,Rfe8,b4,Ne4,Qb3,Ndf6,a4,Nxc3,Qxc3,Ne4,Qb3,Bg4,b5,Bxf3,Bxf3,Nd2,Qd1', 'Rxe1+,Qxe1,Nxf3+', 'https://lichess.org/training/l90q7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l97zx', 'Blitz', 'angeange', 1681, 'Sirgius', 1508, 'e4,e5,d3,d6,g4,Nf6,g5,Ng8,h4,Be6,c3,Nd7,b4,Qe7,a4,f6,Bh3,O-O-O,b5,Nc5,c4,Qd7,gxf6,Nxf6,a5,Be7,b6,cxb6,axb6,a6,Nc3,h6,Bxe6,Nxe6,Nd5,Nxd5,cxd5,Nd4,Be3,Rhf8,Ra2,Qb5,Qa1,Qb4+,Bd2,Qb3,Qc1+,Kb8', 'Qc7+,Ka8,Rxa6+,bxa6,Qa7#', 'https://lichess.org/training/l97zx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l986Z', 'Rapid', 'golgoly', 2110, 'Lolonaut', 1997, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,c3,Qc7,g3,Bg4,Bg2,e6,Be3,Nf6,Nbd2,Bd6,Qb3,O-O,O-O,Na5,Qc2,b5,a3,Bf5,Qd1,Nc4,Nxc4,bxc4,Re1,Rab8,Qd2,Ne4,Qe2,Qb6,Ra2,Qb3,Rea1,Nf6,Qe1,Ng4,Bd2,Nf6,Bg5,Ne4,Nd2,Nxd2,Bxd2,Rb6,a4,Rfb8,a5,Rb5,Bf3,Qc2,Rc1,Qd3', 'Be2,Qe4,f3', 'https://lichess.org/training/l986Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L9cGV', 'Blitz', 'fabdabs1234', 2012, 'kebra64', 2011, 'd4,e6,c4,f5,h4,Nf6,h5,d5,e3,c6,Nc3,Bd6,Nf3,O-O,h6,g6,Be2,Ne4,Qd3,Bd7,cxd5,exd5,b3,Bb4,Bd2,Qa5,Nxe4,fxe4,Bxb4,Qxb4+,Qd2,Qxd2+,Nxd2,Be6,f3,exf3,Nxf3,Nd7,Kd2,Bf5,Raf1,Rae8,Bd3,Bxd3,Kxd3,Re7,Re1,Rfe8,Ng5,Nf6,Re2,Ng4,Rhe1,Nxh6,e4,dxe4+,Nxe4,Kg7', 'Nd6,Rxe2,Nxe8+,Rxe8,Rxe8', 'https://lichess.org/training/L9cGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l9d6b', 'Blitz', 'NIDRAG', 1999, 'NM mfcampeao', 2197, 'd4,Nf6,Nf3,e6,c3,b6,Bg5,Bb7,Nbd2,Be7,Bxf6,Bxf6,e3,O-O,Bd3,Be7,h4,f5,Qb3,Kh8,O-O-O,Nc6,Qc2,a6,Kb1,b5,e4,b4,exf5,bxc3,bxc3,Rb8,Ka1,Na5,fxe6,dxe6,Rb1,Bd5,c4,Bc6,Bxh7,Bf6,Be4', 'Bxd4+,Nxd4,Qxd4+', 'https://lichess.org/training/l9d6b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l9Eas', 'Blitz', 'YuraMoskalenko', 1629, 'splash221', 1612, 'e4,c5,Nf3,e6,Nc3,a6,Bc4,Nc6,d3,g6,Bg5,f6,Bf4,Bg7,O-O,Nge7,Re1,e5,Bg3,d5,Bxd5,Nxd5,Nxd5,Nd4,Nxd4,cxd4,Qf3,O-O,b3,b5,c4,bxc4,bxc4,Bb7,Rab1,Bxd5,cxd5,f5,exf5,Rxf5,Qe4,Qd6,h3,Rd8,Bh4', 'Rf4,Qxf4,exf4,Bxd8,Qxd8', 'https://lichess.org/training/l9Eas');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l9Ild', 'Rapid', 'kaya7171', 1721, 'josh_williams', 1727, 'e4,e5,Nf3,d6,d4,Nc6,d5,Nce7,c4,f5,Bd3,Nf6,Nbd2,fxe4,Nxe4,c6,Nxf6+,gxf6,Nxe5,dxe5,Qh5+,Kd7,dxc6+,Nxc6,Qf7+,Qe7,Bf5+,Kd8,Qd5+,Bd7,O-O,Rg8,Rd1,Nd4,Bxd7,Qxd7,Qxg8', 'Ne2+,Kf1,Qxd1#', 'https://lichess.org/training/l9Ild');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L9jcB', 'Blitz', 'tizianolionel', 1822, 'myedge', 1821, 'e4,c6,d4,d5,exd5,cxd5,c4,e6,Nc3,Nf6,Nf3,Be7,c5,Nc6,a3,O-O,Bd3,Nd7,Qc2,h6,h4,b6,Ng5,bxc5,Bh7+,Kh8,Bg8,Nf6,Nxf7+,Rxf7,Bxf7,Nxd4,Qg6,e5,Nxd5,Nxd5,Bxh6,Bf6', 'Bxg7+,Bxg7,Qh5+,Bh6,Qxh6#', 'https://lichess.org/training/L9jcB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L9jeX', 'Blitz', 'CM Teentra', 2260, 'Filetoypesto', 2228, 'e4,e6,d4,d5,e5,b6,Nf3,Ne7,Bd3,Qd7,O-O,Ba6,a4,Bxd3,cxd3,c5,a5,bxa5,dxc5,d4,Nbd2,Nbc6,Nc4,Nd5,Nxa5,Bxc5,Qc2,Nxa5,Rxa5,Bb6,Ra4,O-O,Nxd4,Rfc8,Qb3,Rab8,Qb5,Qc7,Rc4,Qb7,Nc6', 'Bxf2+,Rxf2,Qxb5', 'https://lichess.org/training/L9jeX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l9kQM', 'Rapid', 'the_cyber', 1910, 'chingoo123', 1837, 'c4,e5,Nc3,f5,d3,Nf6,Nf3,Nc6,g3,Bc5,Bg2,d6,O-O,O-O,Be3,Bxe3,fxe3,Ng4,Qd2,Ne7,Rac1,Ng6,Nd5,Be6,b4,c6,Nc3,f4,exf4,exf4,Nd4,fxg3,Nxe6,Qh4,h3,Rxf1+,Rxf1,Nf2,Qg5', 'Nxh3+,Bxh3,Qxh3', 'https://lichess.org/training/l9kQM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l9mVC', 'Rapid', 'Franjbr', 1686, 'Olegsevmor', 1669, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Bg4,h3,Bh5,g4,Bg6,Ne5,c5,Nxg6,hxg6,dxc5,Bxc5,Qf3,Nbd7,Bb5,Qe7+,Kf1,O-O-O,Bxd7+,Rxd7,Bxf6,gxf6,Nc3,d4,Nd5,Qe5,Nxf6,Re7,Kg2,Re6,Rae1', 'Qxf6,Qxf6,Rxf6', 'https://lichess.org/training/l9mVC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l9r3p', 'Rapid', 'khleeeel', 1836, 'mainrule', 1854, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,exd6,Qxd6,Ng5,Qb4+,Nd2,Ne5,Bb3,Bg4,f3,Bh5,O-O,O-O-O,a3,Qb6,Kh1,h6,Nxf7,Nxf7,Nc4,Qc5,Re1,Nd5,Qd3,Nd6,Nxd6+,Bxd6,Qf5+,Kb8,Qxh5,g5,Qf7,Rhf8', 'Qxd5,Qxd5,Bxd5', 'https://lichess.org/training/l9r3p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L9SSJ', 'Rapid', 'myo', 1869, 'FireWorks', 1696, 'e4,Nf6,e5,Nd5,Nf3,d6,Bc4,Nb6,Bb3,Bg4,h3,Bh5,g4,Bg6,d3,Nc6,exd6,cxd6,Nc3,e6,Nh4,Qxh4,Be3,Be7,Qf3,Bg5,O-O-O,O-O,Ne4,Bxe3+,fxe3,Ne5,Qf4,Bxe4,dxe4,Rad8,Rd2,Nbc4,Bxc4,Nxc4,Rd3,Ne5,Rd2,g5,Qf6,Ng6,Rhd1,Qxh3,Qxg5,Qh4,Qb5,Qxg4,Qxb7,Qg3,Kb1,h5,Qxa7,h4,Qa6,h3,Qf1,Rb8,b3,Kh7,Qh1,Rh8,Rg1,Qxe3,Rd3,Qc5,Qh2,Kg7,Kb2,Qe5+,Qxe5+,dxe5,Rh1,Nf4,Rg3+,Kf6,c4,Rbd8,Kc2,Ne2,Rgxh3,Rxh3,Rxh3,Nd4+,Kc3,Ne2+,Kb2,Nf4,Rc3,Rd2+,Rc2,Rd4,c5,Nd3+,Ka3,Rd8,c6,Rc8,b4,Ra8+,Kb3,Rc8,b5,Ke7,a4,Ne1,Rd2,Nf3,Rd7+,Ke8,a5,Nd4+,Kb4,Nxc6+,bxc6,Rxc6,Rb7,Kf8,Kb5,Rd6,Rb6,Rd1,a6,Ra1,Kc6,Kg7', 'Kb7,Kf6,a7,Rxa7+,Kxa7', 'https://lichess.org/training/L9SSJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l9U64', 'Blitz', 'IM Mv17', 2553, 'LarsAndreassen', 2417, 'd4,d5,c4,e6,Nf3,c5,cxd5,cxd4,Nxd4,exd5,Nc3,Nf6,Bg5,Be7,e3,O-O,Be2,Nc6,O-O,Be6,Rc1,Qd7,Nxc6,bxc6,Na4,h6,Nc5,Bxc5,Bxf6,Bb6,Bd4,Rfd8,b4,Bxd4,Qxd4,a5,a3,axb4,axb4,Ra4,Qc5,Rb8,Rb1,Qb7,b5,cxb5,Rxb5,Qa8,Rxb8+,Qxb8,h3,Rb4,Bd3,Qb6,Qe7,Qb8,Ra1,Rb7,Qa3,g6,Qa6,Rb6,Qa5,Rb3,Rd1', 'Rxd3,Rxd3,Qb1+,Kh2,Qxd3', 'https://lichess.org/training/l9U64');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('L9Vft', 'Blitz', 'mamayforchess', 2207, 'damafe', 2163, 'e4,g6,d4,Bg7,c4,d6,Nc3,Nf6,Nf3,O-O,Be2,e5,O-O,Nc6,d5,Ne7,Rb1,Nh5,b4,f5,Ng5,Nf4,Bf3,h6,Nh3,Nxh3+,gxh3,g5,Kh1,fxe4,Bxe4,Nf5,c5,Nh4,Qh5,Bxh3,Rg1,Qf6,Bxg5,hxg5,Bh7+,Kh8', 'Bg6+,Bh6,Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/L9Vft');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('l9yZs', 'Blitz', 'edisonvargas', 1870, 'benstace4', 1909, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Nxe5,Nc6,Nxc6,dxc6,Be2,h5,d3,Ng4,O-O,Qh4,h3,Bxf2+,Kh1,Bd4,Bxg4,hxg4,Rf4,Qg3,Ne2', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/l9yZs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lA1WJ', 'Rapid', 'alexander1951', 1720, 'Rambombon', 1658, 'e4,g6,g3,Bg7,Bg2,c5,c4,Nf6,a3,O-O,d4,d6,d5,Bd7,Nc3,b5,cxb5,Qa5,Ne2,Bxb5,Bd2,Qb6,O-O,a6,Re1,Nbd7,a4,Bxe2,Nxe2,Qxb2,Rb1,Qa3,Bh3,Ne5,Nc3,Rab8,Qc2,Nf3+,Kg2,Nxe1+,Bxe1,Rxb1', 'Nxb1,Qa1,Bc3', 'https://lichess.org/training/lA1WJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('La3K6', 'Classical', 'Pro-file', 1646, 'Joonaf', 1643, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Nd7,Ng5,h6,Nh3,c5,c3,Ne7,Nd2,Nc6,O-O,Be7,Nf3,Rb8,Nf4,b5,Nh5,O-O,h3,b4,Nh2,Bh4,Ng4,Ne7,Nxh6+,gxh6,Bxh6,Re8,g3,Nf5,gxh4,Nxh6', 'Qg3+,Kf8,Qg7+', 'https://lichess.org/training/La3K6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LA4qT', 'Rapid', 'eray52', 1785, 'birerdemuzun', 2030, 'e4,c6,d4,d5,e5,Bf5,c4,e6,Nc3,Ne7,Nf3,Nd7,Be3,h6,Be2,dxc4,Bxc4,Nb6,Bb3,Ned5,Nxd5,Nxd5,Bxd5,Qxd5,Qb3,Qxb3,axb3,Bc2,Nd2,Bb4,Ra4,a5,Ke2,O-O,Rc1,Bxd2,Bxd2,Bxb3,Ra3,a4,Bb4,Rfd8,Ke3,Rd5,Rc5,Rad8,Bc3,Rxc5,dxc5,Rd5,Bd4,Kf8,f4,Ke7,g4,g6,h4,Rd8,Ra1,Rh8,Rg1,h5,g5,Ra8,Ra1,Kd7,Kd3,Kc7,Kc3,Ra5,Kd3,Kb8,Kd2,Ka7,Kc3,Ka6,Kd3,Kb5,Bc3,Ra8,Bd4,Rd8,Ke3,Kb4,Rc1,Bd5,Bc3+,Kxc5', 'Ba5+,Kb5,Bxd8', 'https://lichess.org/training/LA4qT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('La5UU', 'Rapid', 'supersolan', 1836, 'zlataelonova', 1833, 'e4,c5,c3,e6,d4,cxd4,cxd4,a6,a4,Qc7,Nc3,d6,Nf3,Nd7,Bf4,Be7,Bd3,Ngf6,O-O,O-O,Qb3,b6,Rac1,Qd8,Rfe1,Bb7,h3,h6,e5,dxe5,dxe5,Nd5,Be4,Nc5,Qc4,Nxe4,Qxe4,Ra7,Nxd5,Bxd5,Qd3,Qe8,b3,f6,Rc3,Bb4,Rcc1,Bxe1,Rxe1,f5,Rc1,Qg6,Kh2,Be4,Qe3,Rd7,Qxb6,Bxf3,gxf3,Rfd8,Qxa6', 'Rd1,Rxd1,Rxd1', 'https://lichess.org/training/La5UU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LaBjG', 'Rapid', 'hvb6099', 1927, 'Mauroff', 1891, 'e4,c5,Nf3,a6,c4,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Bb4,Qb3,Bc5,Be2,Nf6,O-O,h6,Na4,Ba7,Bd3,O-O,Bd2,d6,Rac1,Be6,Nc3,Ng4,h3,Nf6,Kh1,Nd7,f4,Nc5,Qc2,Nxd3,Qxd3,f5,Rfd1,Rb8,b3,Bd4,Ne2,Bb2,Rc2,Ba3,Qg3,exf4,Bxf4,fxe4,Bxh6,Qf6,Bg5,Qg6,Nf4,Qf5,Nxe6,Qxe6,Bc1,Bc5,Bb2,Rf7,Bd4,Bxd4,Rxd4,c5,Rxd6,Qc8,Qe3,Qc7,Rcd2,Rf1+,Kh2,Rd8,Qg3,Re8,Rd7', 'Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/LaBjG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('laBSK', 'Classical', 'Motasemalaqad', 1617, 'Thaumazo-1983', 1630, 'e4,c5,Bc4,d6,Nf3,Nf6,d3,g6,Ng5,e6,Bb3,Bg7,Bf4,O-O,e5,dxe5,Bxe5,Nd5,Bxg7,Kxg7,Qf3,h6,Ne4,a6,O-O,b5,a3,Bb7,Nbd2,Nd7,Nd6', 'Ne5,Qg3,Qxd6', 'https://lichess.org/training/laBSK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LaDNU', 'Blitz', 'FM Wuchtig', 2424, 'FM orlando70', 2454, 'c4,Nf6,Nf3,e6,g3,d5,Bg2,Be7,O-O,O-O,b3,b6,Bb2,Bb7,e3,dxc4,bxc4,c5,d3,Nc6,Qe2,Qc7,Nc3,a6,Rfd1,Rab8,Ng5,Na7,Rac1,Bxg2,Kxg2,b5,cxb5,axb5,Nce4,Nxe4,Nxe4,Rfc8,Qg4,Bf8,Nxc5,f5,Qd4,Nc6,Qd7,Bxc5,Qxe6+,Qf7,Qxf7+,Kxf7,Rxc5,Nb4,Rxf5+,Kg6,Rf3,Rc2,Be5,Ra8,Rb1,Nxd3,Rxb5', 'Ne1+,Kh3,Nxf3', 'https://lichess.org/training/LaDNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LAEuw', 'Rapid', 'BillyPepice', 1805, 'armadegon', 1775, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,e6,Bf4,h6,e3,Bb4,Rc1,Nf6,Bd3,Bg4,h3,Bh5,g4,Bg6,Bxg6,fxg6,Ne5,O-O,Nxg6,Rf7,g5,Bd6,gxf6,Bxf4,Nxf4,Qxf6,Qg4,Nd7,Kd2,e5,dxe5,Qxe5,Rcg1,dxc4,Kc1,Nc5,Nh5', 'Nd3+,Kb1,Nxf2', 'https://lichess.org/training/LAEuw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LaHmh', 'Rapid', 'chayon07', 1877, 'ArturTozliyan4', 1827, 'd4,d6,c4,b6,Nc3,g6,Nf3,Bg7,e3,e6,Be2,Ne7,O-O,O-O,b3,Bb7,Bb2,Nd7,Ng5,h6,Nge4,f5,Ng3,Nf6,Bf3,c6,Rb1,Rb8,Re1,Qc7,a4,Nh7,Nce2,Ng5,Nf4,e5,dxe5,dxe5,Nh3,Nxf3+,Qxf3,c5,Qe2,Qc6,f3,Rbd8,Rbd1,Kh7,Bc1,Ng8,Nf2,Nf6,Nfh1,Rd6,Rxd6,Qxd6,Rd1,Qc7,Qd2,Rf7,Qd8,Qc6,Qd6', 'Rd7,Qxd7,Nxd7', 'https://lichess.org/training/LaHmh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lAHOG', 'Rapid', 'Victoloss', 1747, 'payp', 1659, 'd4,e6,Nf3,d5,e3,c5,c4,Nc6,Qa4,Bd7,Qb3,Na5,Qc2,Nf6,cxd5,cxd4,Nxd4,Nxd5,Bd2,b6,Bb5,Bxb5,Nxb5,Rc8,Qa4,Rc4', 'Nd6+,Ke7,Nxc4', 'https://lichess.org/training/lAHOG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lahw1', 'Blitz', 'Ramber', 1785, 'ynzaallasaco', 1714, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,e5,h6,Bxf6,gxf6,Qd2,fxe5,a3,exd4,Qxd4,Bxc3+,Qxc3,O-O,O-O-O,Qg5+,Kb1,Nc6,Nh3,Qe5,Qd2,Kh7,Bd3+,f5,g4,Nd4,gxf5,exf5,Qc3,Nc6,Qd2,Be6,Rde1,Qf6,Nf4,Rae8,Nh3,Nd4,Re3,c5,Rg1,c4,Be2,Nxe2,Qxe2,Bf7,Rxe8,Rxe8,Qf3,b6,Nf4,d4,Qb7,Re7,Qg2,d3,Nd5,Bxd5,Qxd5,dxc2+,Kxc2,Rg7,Rxg7+,Qxg7,Qxf5+,Kh8,Qf4,Qg6+,Kc3', 'Qd3+,Kb4,Qb3#', 'https://lichess.org/training/lahw1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lakQf', 'Rapid', 'paulkue1941', 1972, 'kapalan', 2060, 'Nc3,Nf6,e4,e5,Nf3,d6,Bc4,Be7,O-O,O-O,d4,exd4,Nxd4,c6,Bg5,Bg4,f3,Bh5,Nf5,Bg6,Nxe7+,Qxe7,Qe2,Nbd7,Bd3,Qe5,Be3,Nh5,f4,Qe7,f5,Rae8,fxg6,fxg6,Rxf8+,Nxf8,Rf1,Nd7,Qf3,d5,Bf2,Rf8,Qe3,Ne5,exd5,cxd5,Nxd5,Qd6,Qc5,Qd8,Bc4,Kh8,Be2,Qg5,Bxh5,Qxh5,Ne3', 'Nf3+,gxf3,Qxc5', 'https://lichess.org/training/lakQf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LaMaf', 'Rapid', 'mahdi1373102', 1696, 'Javier111', 1713, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Bc4,Nf6,Bg5,O-O,O-O,Nxe4,Bxe7,Qxe7,Re1,Qg5,Rxe4,d5,Nf3,Qg6,Qxd5,c6,Qd4,Bf5,Rf4,Bxc2,Ne5,Qh5,g4,c5,Qxc5,Qg5,Qd4,Nc6,Nxc6,bxc6,Nc3,Bg6,Ne4', 'Qxf4,Nf6+,Qxf6,Qxf6,gxf6', 'https://lichess.org/training/LaMaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('laoeK', 'Rapid', 'Krik_besnog_pileta', 1837, 'pochoclo', 2024, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Qe7,Qd5,Bxc3+,bxc3,Qa3,Qd2,Qc5,Qd5,Qxf2+,Kd1,Ne3+,Bxe3,Qxe3,Qd3,Qc5,Qd5,Qa3,Qd2,Qa4+,Kc1,Qxc4,e3,Qc5,Be2,Nxe5,Nxe5,Qxe5,g3,d6,Rf1,Be6,Rb1,Bd5,Bf3,Bxf3,Rxf3,Qe4,Rf4,Qc6,Qd4,O-O,Rb4,Qh1+,Kb2,Qxh2+,Kb3,c5,Rh4,Qe2,Qe4,Qd1+,Kb2,f5,Qe6+,Kh8', 'Rxh7+,Kxh7,Rh4+,Qh5,Rxh5#', 'https://lichess.org/training/laoeK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('laoiU', 'Rapid', 'Valentin0811', 2108, 'LittleGavroche', 2032, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be7,Be3,Be6,Na4,Nbd7,Qd2,b5,Nc3,Nb6,Bxb6,Qxb6,Qf2,Qxf2+,Kxf2,d5,exd5,Nxd5,Nxd5,Bxd5,Rd1,Be6,Be2,O-O,Rhe1,Rac8,Bd3,f6,Kg1,Rc7,Nd2,Bc5+,Kh1,Bd4,c3,Bb6,a3,Rd8,Nc4,Rxc4,Bxc4,Rxd1', 'Bxe6+,Kf8,Rxd1', 'https://lichess.org/training/laoiU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LaoLJ', 'Blitz', 'AlexanderKaizenevX5', 2283, 'IM ENERGIE73', 2298, 'd4,d5,Nf3,Nf6,b3,b6,Bb2,Bb7,e3,e6,Bd3,Nbd7,Nbd2,Ne4,O-O,f5,Ne5,Nxe5,dxe5,Nxd2,Qxd2,Be7,Qe2,O-O,c4,Qe8,cxd5,Bxd5,Rac1,Qg6,f3,c5,Bc4,Bb7,Rcd1,Rad8,Rxd8,Rxd8,Rd1,h5,Rxd8+,Bxd8,Qd1,Bg5,f4,Bxf4,Bxe6+,Kh8', 'Qd8+,Kh7,Qg8+,Kh6,Qh8+', 'https://lichess.org/training/LaoLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LaOpB', 'Rapid', 'IronArthur', 1691, 'Skyrush151', 1748, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,b6,Qd5,c6,Qe5+,Qe7,Qf4,Nf6,Bd3,Qd6,e5,Nd5', 'exd6,Nxf4,Bxf4', 'https://lichess.org/training/LaOpB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lAP1n', 'Blitz', 'AdikansLeech', 1578, 'mezaheer', 1593, 'e4,e5,Bc4,Bc5,Nf3,Nc6,b4,Bxb4,c3,Ba5,Qb3,Qe7,Ba3,d6,O-O,Nf6,d4,exd4,cxd4,Nxe4,Re1,O-O,Re3,Be6,Bd5,Nf6,Bxe6,fxe6,Rxe6,Qf7,Ng5,Nxd4,Qc4,Qh5,Rxf6+,Kh8,Nf7+,Rxf7,Rxf7', 'Qd1+,Qf1,Ne2+,Kh1,Qxf1#', 'https://lichess.org/training/lAP1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LAppV', 'Rapid', 'jansvensen', 2110, 'IPersist', 1992, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,Bg7,Be2,O-O,Nb3,d6,O-O,a6,a4,Be6,f4,Rc8,a5,Bxb3,cxb3,Nxa5,e5,Ne8,Nd5,Nc6,Bg4,e6,Nb6,Rb8,exd6,Bxb2,Ra2,Bf6,d7,Ng7,Nc8,Nf5,Bb6,Bd4+,Bxd4,Nfxd4,Rd2,Qxd7,Nb6,Qc7,Nc4,Nf5,Bxf5,exf5', 'Rd7,Qd8,Rxd8', 'https://lichess.org/training/LAppV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lAqmB', 'Blitz', 'FM baby_leo', 2230, 'hgabanto', 2246, 'Nf3,e6,g3,b5,Bg2,Bb7,O-O,Nf6,d3,Be7,e4,d6,Nbd2,O-O,c3,Nbd7,Re1,c5,d4,cxd4,cxd4,Qb6,b3,a5,a4,bxa4,bxa4,Rac8,Rb1,Qa7,Ba3,Rfe8,e5,dxe5,Bxe7,Rxe7,Nxe5,Bxg2,Kxg2,Nxe5,dxe5,Nd5,Ne4,Qa8,Qg4,Nc3,Rbc1,Rec7,Kg1', 'Ne2+,Rxe2,Rxc1+', 'https://lichess.org/training/lAqmB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LARHP', 'Classical', 'narkov', 1862, 'MicahJD', 1847, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Nc6,Bb5,Bd7,Bxc6,Bxc6,f3,g6,Be3,Bg7,Ne2,f5,Qb3,Qe7,Nbc3,O-O-O,O-O,Nh6,d5,exd5,Nxd5,f4,Bxa7', 'Bxd5,exd5,Qxe2', 'https://lichess.org/training/LARHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LASDF', 'Rapid', 'kralevas', 1843, 'Boshra778811', 1834, 'e4,e6,d4,d5,Nc3,c5,Nf3,cxd4,Nxd4,dxe4,Nxe4,Bc5,Nxc5,Qa5+,c3,Qxc5,Bb5+,Bd7,Qa4,Qe5+,Be3,Bxb5,Qxb5+,Qxb5,Nxb5,Na6,Nd6+,Ke7,O-O-O,b6,f4,Nf6,f5,Nd5,Nc4,b5,fxe6,fxe6,Bg5+,Kf7,Ne5+,Ke8,Rhe1,Nac7,c4,bxc4,Nxc4,Rf8,Nd6+,Kd7,Nb7,h6,Nc5+,Kc6,Nxe6,Nxe6,Rxe6+,Kd7,Re5,hxg5,Rexd5+,Kc6,Rxg5,Rac8,Kb1,Rf7,Rc1+,Kb7,Rb5+,Ka6,Rb3,Rxc1+,Kxc1,Rf1+,Kd2,Rf2+,Kc1,Rxg2,Rh3,g5,a3,g4,Rh6+,Ka5,h4,g3,Rg6,Rg1+,Kc2,g2,h5,a6,h6,Rh1,h7,Rh2,Kc3,Rh3+,Kc4,Rxh7', 'b4+,Ka4,Rxa6#', 'https://lichess.org/training/LASDF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Laslp', 'Classical', 'blablabladodido', 1909, 'farzadvz', 1733, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,c4,a5,Nc3,Ba6,a3,h6,Be2,Nf6,O-O,Bc5,Rb1,Rb8,Qd3,O-O,Be3,Bxe3,Qxe3,Re8,b4,axb4,axb4,d5,exd5,cxd5,cxd5,Bxe2,Qxe2,Nxd5,Nxd5,Qxd5,Rfd1,Qb5,Qe4,Rbd8,Rxd8,Rxd8,Rc1,Rb8,h3,Qxb4', 'Rc8+,Rxc8,Qxb4', 'https://lichess.org/training/Laslp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LASs6', 'Rapid', 'gulgboy', 1976, 'DrAGoN909', 1899, 'c4,e5,Nc3,Bb4,Nd5,Bc5,b4,Be7,Bb2,d6,f4,c6,Nxe7,Qxe7,fxe5,dxe5,g3,Be6,d3,Bf5,a3,Nf6,e4,Bg4,Ne2,Bf3,Rg1,Nbd7,Qd2,b6,Nc3,c5,b5,a6,a4,axb5,Nxb5,O-O,Be2,Bg4,Nc7,Rac8,Nd5,Nxd5,exd5,Bxe2,Qxe2,Rfe8,Qe4,Qf6,Rf1,Qg5,Qf3,Nf6,h4,Qg6,Kd2,e4,dxe4,Nxe4+,Kc2,Nxg3+,Kb3,Nxf1,Rxf1,Rf8,h5,Qd6,Rg1,Rce8,Rxg7+,Kh8,Rxf7+,Kg8,Qg4+,Kxf7', 'Qg7#', 'https://lichess.org/training/LASs6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lauQs', 'Blitz', 'Schapsiblepko', 1723, 'andr_zol', 1667, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,O-O,Nxe4,Re1,d5,Bb3,O-O,cxd4,Bb6,Qc2,Bg4,Nbd2,Nxd4,Nxd4,Bxd4,Nxe4,dxe4,Rxe4,Bf5', 'Rxd4,Bxc2,Rxd8,Raxd8,Bxc2', 'https://lichess.org/training/lauQs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lAv0N', 'Blitz', 'GM volodja49', 2478, 'IM Aronian1111', 2365, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Nge2,c5,Be3,Nbd7,Qd2,a6,Rd1,Qa5,b3,b5,Nd5,Nxd5,Qxa5,Nxe3,Qd2,cxd4,Rc1,bxc4,Nxd4,Nxf1,Rxf1,cxb3,Nxb3,a5,Rc7,a4,Nd4,Nc5,Rxe7,Ba6,Kf2,Bxf1,Kxf1,Rab8,Nc6', 'Rb1+,Ke2,Rb2', 'https://lichess.org/training/lAv0N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LAvM1', 'Blitz', 'Alex128', 1553, 'Aniljithcp', 1556, 'e4,e5,f4,exf4,Nf3,d6,d4,Be7,Bxf4,Bg4,Be2,Nf6,Nc3,O-O,h3,Bxf3,Bxf3,Nc6,d5,Ne5,Qe2,Nxf3+,Qxf3,c6,O-O-O,cxd5,exd5,Qc7,Rhe1,Rfe8,g4,Rac8,g5,b5,gxf6,Bxf6,Rxe8+,Rxe8,Nxb5,Qb6,Nxd6,Qxb2+,Kd2,Qb4+,c3', 'Qb2+,Kd3,Qxc3#', 'https://lichess.org/training/LAvM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lAWwF', 'Rapid', 'tomaskja', 1673, 'TomasEsMe', 1654, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,d3,d5,O-O,d4,c3,Bg4,cxd4,cxd4,h3,Bh5,g4,Bg6,Na3,e6,Bf4,Ne7,Bg3,Nd5,Nc4,Be7,Nxd4,c5,Nc6,Qd7,Nxe7,Nxe7,b3,O-O,Ne5,Qc8,Nxg6,Nxg6,Qc2,f5,gxf5,exf5,Qc4+,Kh8,exf5,Qxf5,h4,Rac8,Qxa6,Nf4,Bxf4,Qxf4,Qc4,Qf5,Qe4,Qf6,f3,Qd8,Rac1,Rf6,a4,Rg6+,Kf2,Qc7,Rg1', 'Qh2+,Ke3,Rxg1,Rxg1,Qxg1+', 'https://lichess.org/training/lAWwF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lAYcC', 'Rapid', 'barryscott', 1975, 'Telemachus35', 2006, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,Bd3,Bxd3,Qxd3,e6,Bf4,Qa5+,c3,Be7,Ne5,Rd8,Nh5', 'Nxe5,Nxg7+,Kf8', 'https://lichess.org/training/lAYcC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Laye9', 'Classical', 'Caicara', 1790, 'InTheSpiritOf', 1816, 'Nf3,Nf6,d3,d5,c3,c5,Nbd2,Nc6,g3,e5,Qc2,Bd6,e4,d4,Bg2,h6,h4,O-O,O-O,Ng4,Re1,f5,exf5,Bxf5,Ne4,Kh8,Re2,Qc7,Nh2,Rae8,Bd2,b5,Rf1,c4,Nxg4,Bxg4,f3,Bf5,Ref2,Be7,h5,Qd7,Kh2,a5,g4,Bxe4,dxe4,d3,Qc1,Qe6,Bh3,Bc5,g5,Qd6,Rg2,hxg5,Rxg5,b4,Bg4,bxc3,bxc3,Bb6,Kg3,Bd8,Rg6,Rf6,Rh1,Rxg6,hxg6+,Kg8,Bh5,Ne7,f4,Nxg6,f5,Nf4,Bxf4,exf4+,Qxf4,Qxf4+,Kxf4,Bc7+,Kg5,Rd8,f6,gxf6+,Kxf6,d2', 'Bf7+,Kf8,Rh8#', 'https://lichess.org/training/Laye9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('layFW', 'Rapid', 'hamami', 1799, 'Phenomenol', 1803, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Nc3,d6,h3,b5,Bb3,Na5,Bd5,Nxd5,Nxd5,Bb7,c3,c6,Ne3,c5,d3,Nc6,a3,Ne7,Qc2,Qc7,d4,cxd4,cxd4,Qxc2,Nxc2,exd4,Ncxd4,Bxe4,Nd2,Bxg2,Rh2,Bb7,f4,Nd5,Re2+,Be7,Nf5,g6,Nxd6+,Kd7,Nxb7,Nxf4,Rh2,a5,Ne4,Nd3+,Ke2,Nxc1+,Rxc1,Rhc8,Rhh1,f5,Nec5+,Bxc5,Nxc5+,Ke7,Nb3,Rc4,Rxc4,bxc4,Nd4,Kd6,Rc1,Re8+,Kf3,Kc5,Nc2,Rd8,b4+,axb4,axb4+,Kb5,Ne3,Rd3,Ke2,Rb3,Rxc4', 'Rxe3+,Kxe3,Kxc4', 'https://lichess.org/training/layFW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Laz9T', 'Rapid', 'sleppup', 1853, 'Niceguy_in', 1792, 'd4,e6,c4,c6,a3,Nf6,e3,Be7,Nf3,d5,c5,O-O,b4,Qc7,Bb2,b6,cxb6,axb6,Qc2,Qd8,Bd3,Ba6,Nbd2,Bxd3,Qxd3,c5,bxc5,bxc5,dxc5,Bxc5,O-O,Be7,Ne5,Qb6,Rfb1,Qc7,Ndf3,Nbd7,Nxd7,Qxd7,Ne5,Qd6,a4,Nd7,Nf3,Nc5,Qd1,Rfc8,Bd4,Rcb8,Rxb8+,Rxb8', 'Be5,Qd8,Bxb8', 'https://lichess.org/training/Laz9T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lAzPa', 'Blitz', 'gradually', 1896, 'MIN_JIN', 1707, 'e4,e5,Nf3,Nc6,c3,d6,Bc4,Be6,Bb3,Bxb3,axb3,Qd7,h3,f5,d4,fxe4,Nfd2,exd4,Nxe4,dxc3,Nbxc3,O-O-O,O-O,Re8,f3,d5,Nc5,Bxc5+,Kh1,Nf6,Nb5,Ne5,Nxa7+,Bxa7,Rxa7,Kb8,Be3,Nc6,Qa1,Kc8', 'Ra8+,Nb8,Rxb8+,Kxb8,Qa7+,Kc8,Qa8#', 'https://lichess.org/training/lAzPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LAzRo', 'Rapid', 'JoeyTribbiani', 1728, 'knightofchess90', 1752, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,f6,exf6,Qxf6,h3,Bb4+,Nbd2,Ne5,Nxe5,Qxe5,a3,Ba5,Qa4,Bxd2+,Kxd2,O-O,e3,Nc6,f4,Qf6,Bd3,a6,b4,d6,Rb1,Bd7,Bb2,Qh4,Qc2,Qg3,c5,dxc5,Bxh7+,Kh8,bxc5,Qxg2+,Kd3,Qxc2+,Kxc2,Kxh7,Rbg1,Bf5+,Kd2,g6,h4,Rad8+,Ke2,Rfe8,h5,Rd3', 'hxg6+,Kg8,Rh8#', 'https://lichess.org/training/LAzRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lb0CY', 'Rapid', 'A_FanaT_A', 1949, 'Elysium_83', 1846, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,Bb4,e3,O-O,Nf3,Ne4,Qc2,b6,Be2,Ba6,Nd2,Nxd2,Qxd2,Bxc4,Bxc4,dxc4,Qe2,b5,Qg4,Re8,h4,c6,h5,Nd7,Qg3,Nf6,h6,g6,Kf1,Bxc3,bxc3,Ne4,Qf3,Nxc3,Rh3,Qf6,Qg3,Nd5,Be5,Qe7,e4,Nb4', 'Bd6,Qd8,Bxb4', 'https://lichess.org/training/Lb0CY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lB0GT', 'Blitz', 'Aashish61310213', 1723, 'dmeghraj', 1778, 'e4,d6,Nf3,e5,Bc4,h6,Nc3,Bg4,h3,Bh5,g4,Bg6,Nh4,Bh7,Nf5,Nf6,d3,Nfd7,Be3,a6,a3,Nc6,Qd2,Bxf5,gxf5,Nf6,f4,Be7,O-O-O,b5,Nxb5,axb5,Bxb5,Qd7,Qc3,O-O,Bxc6,Qc8,Bxa8,Qxa8,Qxc7,Re8,fxe5,dxe5,Rhg1,Bxa3,bxa3,Qxa3+,Kd2,Qb4+,Qc3,Qe7,Rb1,Nh5,Bxh6,Qh4,Qc6,Qf2+,Kc3,Qd4+,Kb3,Rb8+,Ka2', 'Qa7+,Qa6,Qxa6#', 'https://lichess.org/training/lB0GT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LB1DW', 'Blitz', 'hak13', 1578, 'Yves83', 1502, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Nf6,Re1,Bb7,c3,Be7,d4,exd4,cxd4,O-O,Nc3,d5,e5,Ne4,Nxe4,dxe4,Rxe4,c5,Re3,Bxf3,Rxf3,Qxd4,Qxd4,cxd4,Rd3,c5,Bf4,f6,Rc1,Rac8,exf6,Bxf6,Bd6,Rfd8,Bxc5,Re8,h3,Rxc5,Rxc5,Re2,Rc7', 'Re1+,Kh2,Be5+,g3,Bxc7', 'https://lichess.org/training/LB1DW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lb2uu', 'Classical', 'ffilipp', 1845, 'sharatchandra', 1935, 'd4,Nf6,Nf3,d5,c4,c6,Nc3,e6,Bg5,b6,cxd5,exd5,e3,Ba6,Bd3,Bxd3,Qxd3,Bb4,O-O,O-O,a3,Bd6,Rac1,Nbd7,e4,dxe4,Nxe4,Be7,Rxc6', 'Nxe4,Bxe7,Qxe7', 'https://lichess.org/training/lb2uu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lB36J', 'Rapid', 'Jassu2', 1811, 'joachimgr', 1791, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb6,e5,Ne4,O-O,O-O,Bd3,d5,exd6,Nxd6,Ng5,g6,Qf3,Nxd4,Qh3,h5,Qh4,N6f5,Qf4,Bd7,Nc3,a6,Bxf5,Bxf5,Rd1,c5,Be3,Qf6,Nce4,Ne2+,Kh1,Qxb2,Nf6+,Qxf6,Qf3,Nd4,Bxd4,cxd4,Rab1,Bc5,Ne4,Qe7,Rxb7,Qxb7,Nf6+,Kg7,Qxb7,Kxf6,Qc6+,Kg7,Qxc5,Rfe8,Qxd4+,Kh7,h3,Re2,Kh2,Rb8,a4,Rbb2,Rf1,Red2,Qa7,Kg7,Qxa6', 'Bd3,Qa7,Bxf1', 'https://lichess.org/training/lB36J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lb3cT', 'Rapid', 'cooljared', 1712, 'ifax', 1727, 'e4,c6,d4,d5,e5,c5,Bb5+,Bd7,Bxd7+,Qxd7,c3,e6,Nf3,Nc6,Be3,cxd4,cxd4,Bb4+,Nc3,Nge7,O-O,Nf5,Ng5,h6,Nh3,Nxe3,fxe3,Ne7,Qh5,Nf5,Rf3,g6,Qg4,h5,Qf4,Qc7,Rc1,Bxc3,Rxc3,Qa5,a3,Qb5,b4,Qe2,Rc7,Qe1+,Rf1,Qxe3+', 'Qxe3,Nxe3,Rfxf7', 'https://lichess.org/training/lb3cT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LB6NO', 'Blitz', 'FM uhlmannfan', 2565, 'Udemzo', 2475, 'c4,e5,Nf3,Nc6,Nc3,Nf6,e3,d5,cxd5,Nxd5,Bb5,Nxc3,bxc3,Bd6,d4,exd4,cxd4,O-O,Rb1,Bg4,h3,Bh5,Bd3,Rb8,Bd2,Bg6,Bxg6,hxg6,O-O,Re8,Qa4,a6,Rb3,Ne7,Rfb1,b6,Qxa6,Ra8,Qc4,Rxa2,Bb4,Ra4,Ng5,Rf8,Ne4,Nf5,Nxd6,Nxd6,Qc2,Re8,Rc3,Nb5', 'Qxa4,Nxc3,Bxc3', 'https://lichess.org/training/LB6NO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LB6OA', 'Rapid', 'Shungqar', 1694, 'litelsnek', 1720, 'e4,e6,Nf3,d5,Nc3,Nf6,exd5,Nxd5,d4,Nxc3,bxc3,Nc6,Bb5,Bd7,O-O,Be7,Bf4,O-O,Nd2,e5,Bxc6,exf4,Bxd7,Qxd7,Qf3,Bd6,Ne4,Qf5,h4,Rfe8,Nxd6,cxd6,Qxb7,Qxc2,Qf3,Qf5,Rfe1,Rxe1+,Rxe1,Rb8,Qc6,h6,Qxd6,Rb6,Qd8+,Kh7,Re8,Rb1+,Kh2,Kg6,Re5,Qc2,Qh8,Qxf2', 'h5+,Kf6,Qd8#', 'https://lichess.org/training/LB6OA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lB760', 'Bullet', 'MZH4', 2049, 'Cudzoziemiec', 2003, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,Bxa6,Nc3,d6,f4,Nbd7,g4,h6,Bg2,g5,fxg5,Nxg4,e4,f5,exf5,Nge5,Qh5+,Nf7,g6,Nde5,Nf3,Qa5,Nxe5,dxe5,gxf7+,Kd8,Qg6,Bd3,Qg8,Qb4,Qxh8,Qh4+,Kd2,e4,Qxf8+,Kd7,Qxa8', 'Qf2+,Ne2,Qxe2+,Kc3,Qc2#', 'https://lichess.org/training/lB760');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LB7h8', 'Rapid', 'stranac2', 1716, 'aeskil', 1703, 'e4,c5,Bc4,Nc6,Nf3,d6,Ng5,e6,d4,Nxd4,c3,Nc6,Qf3,Nf6,O-O,Ne5,Bb5+,Bd7,Bxd7+,Qxd7,Qe2,a6,Bf4,Nc6,Na3,O-O-O,Nc4,Kb8,Nb6,Qc7,Nc4,h6,Nf3,g5,Bg3,Nh5,e5,d5,Nd6,Nxg3,fxg3,Bxd6,exd6,Qxd6,b4,cxb4,cxb4,Qxb4,Rab1,Qe4', 'Qxa6,Rd7,Qxc6', 'https://lichess.org/training/LB7h8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lB9jg', 'Rapid', 'cagersoy', 1892, 'compasino', 1774, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,Bg5,Be7,Nc3,Be6,Nd4,O-O,Nxe6,fxe6,Qe2,e5,d4,exd4,Qc4+,Kh8,Qxd4,Nc6,Qh4,Ne5,Nd5,Ng6,Qc4,Re8,Be2,Ng4,O-O,Bxg5,Nxc7,Rxe2,Nxa8,Re7,Qxg4,Bf6,Rad1,Be5,Qb4,Qxa8,Rfe1,b6,g3,Qc6,Rxe5,Nxe5,Rxd6,Qe8,Kg2,Qh5,Rd8+,Re8', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/lB9jg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LBAOY', 'Rapid', 'ALFOMA', 1775, 'Melkart', 1769, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,a6,a4,e6,d3,Nc6,Ba2,Nd4,Nxd4,cxd4,Ne2,e5,O-O,Be7,c3,dxc3,Nxc3,b6,Be3,Bb7,b4,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,Bxb6,O-O,Ba5,Bf6,Rc1,Rfe8,Rc5,Qd4,Qc2,g6,Rc1,Re6,Rc8+,Rxc8,Qxc8+,Kg7,h3,Qxd3,b5,axb5,axb5,Qxb5,Bd2,Rd6', 'Bh6+,Kxh6,Qf8+,Bg7,Qxd6', 'https://lichess.org/training/LBAOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LbDrS', 'Rapid', 'MohamedAbdelfattah', 1635, 'rooommm2', 1627, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Nf3,Bg4,h3,Bxf3,Qxf3,Qb6,a3,Ne7,Be3', 'Qxb2,Rb1,Qxc3+', 'https://lichess.org/training/LbDrS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LbEOz', 'Rapid', 'Thee_AJ_Styles', 1762, 'Bob-lesponge', 1943, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d5,Bg5,h6,Bxf6,Qxf6,e3,O-O,Bd3,dxc4,Bxc4,b6,Ne2,Bb7,O-O,a6,e4,c5,e5,Qg5,Ne4,Qg6,Bd3,Qg4,h3,Qh4,Kh2,cxd4,g3,Qe7,Nxd4,Nd7,f4,Rac8,Qe2,Nc5,Nf6+,gxf6,Qg4+,Kh8,Qh5,Nxd3', 'Qxh6+,Kg8,exf6,Qxf6,Qxf6', 'https://lichess.org/training/LbEOz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lbes2', 'Rapid', 'Gayrat_81', 1653, 'maikkel', 1695, 'e4,c5,Nf3,Nc6,c3,Nf6,d3,e5,Na3,Be7,Nc4,Qc7,Qb3,O-O,Be2,a6,O-O,b5,Ne3,Bb7,Nf5,d6,Bg5,h6,Nxe7+,Qxe7,Be3,Bc8,h3,Be6,Qd1,d5,exd5,Nxd5,Bd2,Nf4,Re1,Nxe2+,Rxe2,Qf6,Qe1,Qg6,Kh2,f6,d4,cxd4,cxd4,Bd5,Nh4,Qh5,g3,Nxd4,Re3,Nc2,Qc1,Nxe3,Bxe3,Rac8,Qd2,Rfd8,a3,g5,Nf5,Qf3,Ne7+,Kf7,Nxd5,Rxd5,Qa5,Rd6,a4,bxa4,Qxa4,Qc6,Qb3+,Kg7,Ra3,Qb5,Qa2,Qc4,Rb3,Rb8', 'Rb7+,Rxb7,Qxc4', 'https://lichess.org/training/Lbes2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lbgi6', 'Classical', 'IM pressive', 2285, 'alderetefsa', 1905, 'd4,g6,e4,d6,Nc3,Bg7,Be3,e5,Nge2,Nc6,f3,exd4,Nxd4,Nxd4,Bxd4,Nf6,Qd2,Be6,O-O-O,Qd7,Kb1,a6,g4,O-O-O,Nd5,Ne8,Nb6+,cxb6,Bxg7,Bxa2+', 'Kxa2,Nxg7,Qc3+,Kb8,Qxg7', 'https://lichess.org/training/Lbgi6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lbgyx', 'Rapid', 'DilanAk', 1650, 'frimaleren', 1680, 'e4,e5,d3,Nc6,c4,Bc5,g3,f6,Bg2,Nge7,Nf3,O-O,Nbd2,Nd4,Nxd4,exd4,Nb3,Bb6,c5,Bxc5,Nxc5,d6,Nb3,c5,Nd2,d5,Nf3,Bg4,h3,Bxf3,Qxf3,dxe4,dxe4,Nc6,O-O,Re8,Qg4,Ne5,Qf5,b5,f4', 'g6,fxe5,gxf5', 'https://lichess.org/training/lbgyx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LBhzl', 'Rapid', 'nodontmovethere', 1885, 'LeoSpielmann', 1885, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,c6,Be3,Bf5,Bd3,Bxd3,Qxd3,e6,Ne5,Nbd7,O-O-O,O-O-O,Nxf7,Qb4,Nxh8,Nc5,Qe2,Nce4,Nxe4,Nxe4,f3,Nc3,bxc3,Qxc3,Qd3', 'Ba3+,Kb1,Qb2#', 'https://lichess.org/training/LBhzl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lbjmp', 'Rapid', 'chessmarket', 1969, 'atomiclion', 1944, 'd4,Nf6,Nf3,g6,Bg5,Bg7,c4,d6,Nc3,h6,Bh4,O-O,e4,g5,Bg3,Nh5,Be2,c6,Qd2,f5,exf5,Bxf5,O-O-O,Na6,Nxg5,hxg5,Bxh5,Nb4,Be2,Qa5,a3,Nc2,Bd3,Nxd4,Bxf5', 'Nb3+,Kc2,Nxd2', 'https://lichess.org/training/Lbjmp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LBKkM', 'Blitz', 'rugdy', 1594, 'Samyrai_do', 1529, 'd4,d5,c4,dxc4,Bf4,Nc6,e3,Bf5,a3,f6,Bxc4,e5,Bg3,Bd6,Nf3,Nge7,Bb5,O-O,O-O,a6,Bc4+,Kh8,b4,b5,Bd3,exd4,Nxd4,Nxd4,exd4,Bxg3,fxg3,Qxd4+,Kh1,Bxd3,Ra2,Qc4,Rff2,Bxb1,Qxb1,Rad8,h3,Rfe8,Rf4,Qd3,Qe1,Qd1,Qxd1,Rxd1+,Kh2,Nd5,Rff2,Nc3,Rac2,Ra1,Rxc3,Ree1,g4,h6,Rxc7,Rh1+,Kg3,Rxa3+,Rf3,Rxf3+,Kxf3,Rf1+,Ke4,Rb1,Ra7,Rxb4+,Kf5,Ra4', 'Kg6,Rd4,Ra8+,Rd8,Rxd8#', 'https://lichess.org/training/LBKkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LBkTG', 'Rapid', 'ookaratas', 1685, 'musayildiztas', 1652, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,a6,Bxc6,dxc6,Nxe5,Bg4,f3,Bh5,O-O', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/LBkTG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lbLzM', 'Rapid', 'blundereverytime', 1632, 'Kcjones19', 1644, 'd4,d5,Nc3,h6,e4,dxe4,Nxe4,e6,c3,Nc6,Nf3,Bd7,Bd3,Be7,O-O,g5,Bd2,f5,Ng3,Bf6,Re1,Qe7,Bb5,O-O-O,Bxc6,Bxc6,Ne5,Bxe5,Rxe5,f4,Ne2,f3,Ng3,fxg2,Qe1,Rd6', 'Nf5,Qf7,Nxd6+,cxd6,Rxe6', 'https://lichess.org/training/lbLzM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lbM0v', 'Blitz', 'FM WB2019', 2445, 'adamu', 1995, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf5,d5,Bg5,d4,Bxf6,gxf6,Ne2,Nc6,Neg3,Qa5+,Ke2,Be6,Kf3,h5,h4,Rg8,Nxh5,Bxf5', 'Nxf6+,Kd8,Nxg8', 'https://lichess.org/training/lbM0v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lbMgD', 'Rapid', 'artemkadjan', 1870, 'HistoriaAnimalium', 1793, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,c3,Bg4,Be2,Qe7,O-O,Nf6,Re1,O-O,Ne5,Bxe2,Rxe2,Qd8,Bg5,h6,Bh4,Nbd7,f4,c6,Nd2,Qc7,Ndf3,Ne4,Nxd7,Qxd7,Ne5,Qc7,c4,f6,Ng6,Rfe8,c5,Bxf4,Qf1,Bg5,Bxg5,hxg5,b4,a6,a4,Kh7,Qf5,Qc8,Ne7+,Qxf5,Nxf5,Kg6,g4,Re6,Rae1,Kf7,Ng3,g6,Nxe4,dxe4,Rxe4,Rae8,Rxe6,Rxe6,Rxe6,Kxe6,Kf2,Kd5,Ke3,f5,h3,f4+,Kd3,f3,Ke3,f2,Kxf2,Kxd4,Kg3,Ke4,h4,Ke3', 'h5,gxh5,gxh5', 'https://lichess.org/training/lbMgD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LBOO1', 'Rapid', 'modiham', 1540, 'harryyandle', 1552, 'e4,e5,Nf3,Nf6,Bc4,Nc6,O-O,d5,exd5,Nxd5,Re1,Bd6,d3,O-O,Bd2,Re8,Bxd5,Qf6,Ng5,Be6,Bxe6,fxe6,Nxh7,Kxh7,Qh5+,Kg8,Bg5,Qf5,Nc3,Nd4,Rac1,Bf8,Ne4,g6,Nf6+,Kf7,Qh7+,Bg7,Nxe8,Rxe8,Be3', 'Rh8,Qxh8,Bxh8,Bxd4,exd4', 'https://lichess.org/training/LBOO1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lBPVN', 'Blitz', 'Wonderfin', 1898, 'Nayhem', 1932, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Bb5,Bd7,Bxc6,bxc6,O-O,c5,Ne2,Be7,f4,Nf6,Nbc3,Rb8,Ng3,Rb4,e5,Ng4,h3,Nh6,Nd5,Rd4,Qf3,Nf5,Nxf5,Bxf5,Nxe7,Qxe7,exd6,Qxd6,Be3,Rb4,Qa8+,Qd8,Qc6+,Bd7,Qxc5,Rb5,Qa3,Qe7,Qxe7+,Kxe7,Bd4,f6,b3,Kf7,c4,Rf5,g4,Ra5,b4,Ra4,a3,Re8,Bc5,Re2,Rf2,Re4,Kg2,Rxc4,Rd2,Bc6+,Kg3,Rc3+,Kh4,Raxa3,Rh2,a5,Rxa3,Rxa3,bxa5,Rxa5,Bb4,Ra4,Bd2,Rd4,f5,Bd5,Bc3,Rd3,Bb4,c6,Re2,c5,Bxc5,Rc3,Re7+,Kg8', 'Re8+,Kf7,Rf8#', 'https://lichess.org/training/lBPVN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lbq10', 'Rapid', 'IvanUrwin', 1750, 'Sventimir', 1755, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Qe2,Ng4,Nd1,O-O,d3,Re8,Ne3,Nf6,Bd2,Bxe3,Bxe3,Bg4,f3,Bh5,O-O-O,Qd6,h4,Re6,g4,Bxg4,fxg4,Rae8,g5,Nd7,h5,Nc5,Bxc5,Qxc5,g6,fxg6,hxg6,Rxg6,d4,Qa5,a3,Qg5+,Qd2,Qg4,e5,c5,Be2,Qd7,b3,Rd8,Bd3,Qxd4,Bc4+,Kh8,Qxd4,cxd4,Bd3,Rh6,Rxh6,gxh6,e6,Kg7,Rf1,Re8,Bc4,Kg6,Kd2,b5,Bd3+,Kg5,Bf5,Rf8,Bh3,Rxf1,Bxf1,Kf6,Bh3,c5,c4,bxc4,bxc4,h5,Bf1,Kxe6,Ke2,Ke5,Kf3,h6,Bd3,a5,Bg6,h4,Kg4,h3,Kxh3,Kf4,Kg2,Ke3,Kf1,d3,Ke1,Kd4,Bf7,Kc3,Kd1,h5,a4,h4,Be6,h3,Bxh3,Kxc4,Kd2,Kd4,Bd7,c4,Bb5,c3+,Kd1,Ke3,Be8,Kd4,Bf7,Kc5,Kc1,Kb4,Be8,Kb3,Bb5', 'd2+,Kd1,c2+,Kxd2,Kb2', 'https://lichess.org/training/Lbq10');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lbqAP', 'Rapid', 'Bashman33', 1989, 'Phillidor_pills', 2037, 'd4,d5,Bf4,e6,e3,c5,Nc3,Nc6,Nb5,e5,dxe5,Be6,Nd6+,Bxd6,exd6,Nf6,Bb5,O-O,Nf3', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/lbqAP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LBqTt', 'Rapid', 'lumil', 1922, 'Jugaz', 1863, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nc6,h3,Bh5,O-O,Nf6,Nc3,Qd7,d4,a6,g4,Bg6,d5,Nb4,Ne5,Qd6,Nxg6,hxg6,Kg2,O-O-O,Bf3,Nbxd5,Nxd5,Nxd5,Bxd5,Qxd5+,Qxd5,Rxd5,Be3,e5,c4,Rd3,b3,f5,gxf5,gxf5,Rad1,Rxd1,Rxd1,Be7,f4,e4,Rd5,Rf8,Re5,Bd6,Re6,Kd7,Rg6,Rf7,Kg3,Ke7', 'c5,Bxc5,Bxc5+', 'https://lichess.org/training/LBqTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lBs6M', 'Blitz', 'cass80', 1929, 'TrApS64', 1943, 'c4,e6,Nf3,b6,b3,Bb7,Bb2,Nf6,g3,d5,Bg2,dxc4,bxc4,Be7,O-O,c5,e3,O-O,Qe2,Nbd7,Rd1,Qc7,Nc3,a6,d4,cxd4,exd4,Rac8,d5,exd5,Qxe7,Rfe8,Qb4,dxc4,Rac1,b5,a4,Nc5,axb5,Nd3,Qa3,Nxc1,Rxc1,axb5,Nxb5,Qb6,Nd6,Re2,Bxf6,gxf6,Nxc8', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/lBs6M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lbseU', 'Blitz', 'Eldrail', 2430, 'CM kekic76', 2386, 'c4,e5,Nc3,Bb4,Nd5,Bc5,Nf3,c6,Nc3,Qe7,e3,d6,d4,Bb4,Qb3,Bxc3+,Qxc3,e4,Nd2,f5,b3,Nf6,Bb2,O-O,Be2,Be6,O-O-O,a5,h3,Na6,Rdg1,Nb4,Kb1,Nd3,Bxd3,exd3,Qxd3,Ne4,Qe2,Nxd2+,Qxd2,b5,d5,cxd5,cxd5,Bd7,Qd4,Qe4+,Ka1,Qxd4,Bxd4,Rfc8,Rc1,a4,Kb2,Rxc1,Rxc1,Rc8,Rxc8+,Bxc8,bxa4,bxa4,Ka3,Bd7,Kb4,Kf7,Ka5,g6,Kb6,Ke7,Kc7,Be8,f3,Bb5,a3,Bf1,e4,fxe4,fxe4,Bxg2,e5,Bxh3,e6,Bxe6,dxe6,Kxe6,Kc6,h5,Bf2,g5,Kb5,g4,Kxa4,Kf5,Kb5,Kg5,a4,h4,a5,g3,Bg1', 'h3,a6,h2', 'https://lichess.org/training/lbseU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LBT14', 'Classical', 'caaland', 1750, 'oltiman', 1661, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,h6,Bc4,Qh4,Nc3,a6,O-O,Nf6,Re1,Be7,Nd5,Ng4,f3', 'Qxh2+,Kf1,Qh1+,Ke2,Qxg2+', 'https://lichess.org/training/LBT14');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lBuEk', 'Blitz', 'eugenyyy', 1814, 'corvin83', 1829, 'e4,c5,c3,e6,d4,d5,e5,Nc6,Nf3,Qb6,Be2,Nge7,Na3,Nf5,Nc2,cxd4,cxd4,Be7,O-O,O-O,Rb1,Bd7,Be3,Nxe3,fxe3,a5,a3,Rac8,Bd3,a4,e4,dxe4,Bxe4,Na5,Kh1,Qb3,Rf2,Bc6,d5,Bxd5,Bxd5,exd5,Nfd4,Qc4,Ne3,Qa6,Nxd5,Bc5,Nf6+,gxf6,exf6,Bxd4', 'Qg4+,Kh8,Qg7#', 'https://lichess.org/training/lBuEk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LBuHr', 'Rapid', 'TeoKajLibroj', 1815, 'simeon2011', 1859, 'e4,c5,c3,d5,exd5,Qxd5,d4,cxd4,cxd4,e5,Nc3,Qxd4,Qxd4,exd4,Nb5,a6,Nc7+,Kd8,Nxa8,Nc6,Nb6,Bf5,Nf3,Nf6,Ng5,Bb4+,Bd2,Re8+,Kd1,Bxd2,Kxd2,Kc7,Nc4,h6,Nxf7,Ne4+,Kc1,Nxf2,Rg1', 'Re1+,Kd2,Rxa1', 'https://lichess.org/training/LBuHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LBwmd', 'Blitz', 'Hamarneh03', 1931, 'shahram2020', 1959, 'Nf3,Nf6,e4,d6,Nc3,e5,d4,Bg4,dxe5,dxe5,Qxd8+,Kxd8,Nxe5,Be6,Bg5,Bd6,Bxf6+,gxf6,Nf3,Ke7,O-O-O,a6,Kb1,Nc6,Nd5+,Bxd5,exd5,Nb4,a3,a5,axb4,axb4,Bc4,Ra5,Bb3,Rha8,Kc1', 'Bf4+,Kb1,Ra1#', 'https://lichess.org/training/LBwmd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lbYdV', 'Rapid', 'TerraDominus', 1655, 'theo_ldg', 1622, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,b6,b4,a5,b5,Na7,a4,d6,h3,c6,c4,cxb5,cxb5,Bb7,g4,Qc7,Be3,d5,exd5,Nxd5,Bd2,Bd6,Bg2,Nf4,Bxf4,exf4,Qe2+,Be7,O-O,O-O,Nbd2,Nc8,Rfc1,Qd7', 'Ne5,Qe6,Bxb7', 'https://lichess.org/training/lbYdV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LbYnw', 'Rapid', 'evgeniuscarlsen', 1957, 'e-flaxen-mice', 1952, 'e4,c5,Nf3,Nc6,c3,e5,Bb5,a6,Bxc6,bxc6,d4,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,exd4,Nxd4,Nf6,O-O,O-O,Nf5,d5,Ng3,Bg4,Qc2,Qb6,b3,d4,Rac1,Rac8,Nc4,Qb8,f3,Be6,Rfd1,Rfd8,Ne2,Qa7,Kh1,c5,Rd3,Rc7,Nf4,Bc8,e5,Nd5,Nxd5,Rxd5,Nd6,Rxe5,Nxc8,Rxc8,Rxd4,Rce8,Re4,Rxe4,fxe4,Qe7,h3,h6,Qxc5,Qxe4,Qc4,Qe3,Rf1,a5,Qxf7+,Kh8,Qf5,Re5,Qf3,Qd2,Qf2,Re2,Qf8+,Kh7,Qf5+,Kh8,Qg4,Qxa2,Rf8+,Kh7,Rf7,Qb2', 'Qf5+,Kg8,Rf8#', 'https://lichess.org/training/LbYnw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lc1c4', 'Rapid', 'minnieswayne', 1955, 'XOSauce', 1823, 'd4,Nf6,Nf3,e6,e3,d5,Bd3,Bb4+,c3,Bd6,O-O,O-O,Ne1,Nbd7,f4,c5,Nf3,c4,Bc2,b5,Nbd2,a5,Ne5,Bxe5,fxe5,Ne4,Nxe4,dxe4,Bxe4,Rb8,Qh5,g6,Qh6,Bb7,Rf3', 'Bxe4,Rh3,g5', 'https://lichess.org/training/lc1c4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lc1C8', 'Rapid', 'hamishm60', 1768, 'kanavgarg', 1693, 'e4,d6,d4,g6,Bf4,Bg7,Nc3,Nf6,Qd2,a5,Bh6,O-O,Bxg7,Kxg7,h4,h5,Nf3,e5,d5,c6,Be2,cxd5,exd5,e4,Ng5,Bg4,O-O-O,Bxe2,Nxe2,Ng4,Nf4,Re8,Nfe6+,fxe6,Nxe6+,Rxe6,dxe6,Qf6,Qxd6,Nxf2,Rhf1,e3,Rde1,Nc6,Rxe3,Rd8,Qc7+,Kh6,Rf3,Qxe6,R3xf2', 'Qe3+,Kb1,Qxf2', 'https://lichess.org/training/lc1C8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lc32B', 'Rapid', 'jouybar', 1759, 'PapoKarla', 1842, 'g3,e5,Bg2,Bc5,d3,d6,Nf3,Nc6,O-O,Bg4,a3,Qd7,b4,Bb6,Nbd2,Bh3,c4,Bxg2,Kxg2,Nd4,Nxd4,Bxd4,Rb1,h5,Nf3,Qg4,Nxd4,exd4,f3,Qg6,Qe1,O-O-O,Rh1,f5,Qd2,Re8,Re1,Qe6,e3,h4,Qf2,hxg3,Qxg3,Nf6,Bd2,Nh5,exd4', 'Nxg3,Rxe6,Rxe6', 'https://lichess.org/training/Lc32B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lc3lI', 'Rapid', 'Novemberrain', 1822, 'victelen', 1768, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,O-O,Nc6,a3,a6,Qd3,Nxd4,Bxd4,b5,Nd5,Nxd5,Bxg7,Nf4,Qe3,Nxe2+,Qxe2,Kxg7,c4,Bd7,b4,Rc8,Rfc1,Qb6,Qd3,bxc4,Rxc4,Bb5', 'Qc3+,e5,Rxc8,Rxc8,Qxc8', 'https://lichess.org/training/lc3lI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lC50U', 'Blitz', 'jamaldakhilizadeh', 1549, 'Nonsio', 1546, 'e4,e6,d4,d5,exd5,exd5,Qe2+,Be7,Bg5,Nc6,Nc3,Nxd4,Qd3,Ne6,Be3,d4,O-O-O,dxc3,Qxc3,Bd7,Bb5,Nf6,Bxd7+,Nxd7,Nf3,O-O,Ne5,Bd6,Nc4,Bf4,Rhe1,Bxe3+,Nxe3,Re8,Nf5,f6,g4,Nf4,Rxe8+,Qxe8,Qxc7,b6,Rxd7', 'Qe1+,Rd1,Ne2+,Kb1,Qxd1#', 'https://lichess.org/training/lC50U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LC5kE', 'Rapid', 'akbar2022', 2049, 'Serhioxxx', 2055, 'e4,c5,Nf3,d6,Bc4,e6,d3,Be7,Nc3,Nf6,O-O,O-O,Be3,a6,h3,b5,Bb3,Nc6,a3,d5,exd5,exd5,d4,c4,Ba2,Ne4,Nxe4,dxe4,Ne5,Nxe5,dxe5,Bf5,f3,Qxd1,Raxd1,exf3,Rxf3,Bxc2,Rd2,Be4,Rf4,Bd3,b3,Bg5,Rf3,f6,e6,Rae8,bxc4,bxc4,Bxg5,fxg5,Re3,Rf1+,Kh2,Re7,Rf3,Rxf3,gxf3,h6,Kg3,Kh7,Kg4,Rxe6', 'Rxd3,cxd3,Bxe6', 'https://lichess.org/training/LC5kE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lc6bC', 'Rapid', 'p-wnattack', 2134, 'AmadorRivas75', 2022, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,c4,c5,Nc3,cxd4,Nxd4,a6,Bg5,Qb6,Qd2,Nc6,e3,Nxd4,exd4,Rb8,Rfe1,Re8,Bxf6,Bxf6,Nd5,Qxd4,Qxd4,Bxd4,Rxe7,Rxe7,Nxe7+,Kg7,Rb1,Be6,b3,Re8,Nd5,Rb8,Nf4,Bf5,Rd1,Bc5,Re1,b6,Bd5,Rf8,Re7,a5,Kg2,Kf6,Rb7,Bb1,g4,Bxa2,h4,Bxb3,g5+,Kf5,Kg3,a4,Re7,Bc2,f3,a3,Be4+,Bxe4', 'fxe4#', 'https://lichess.org/training/Lc6bC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LC6o3', 'Rapid', 'RadicalIdeal', 1880, 'Castelli1356', 1916, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,c5,Be3,Qa5,Qd2,O-O,Bc4,Rd8,O-O,cxd4,Bxd4,Nc6,Bxf7+', 'Kxf7,Qf4+,Kg8', 'https://lichess.org/training/LC6o3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lc8EJ', 'Blitz', 'yalovalimbappe', 1941, 'stimat', 2007, 'c4,c6,Nc3,Nf6,Nf3,d5,d4,dxc4,e3,Bg4,Bxc4,e6,O-O,Bd6,a4,O-O,e4,Bc7,e5,Nd5,Nxd5,cxd5,Be2,Nd7,h3,Bh5,Be3,Rc8,Rc1,a6,b3,Bb8,Qd2,Ba7,Ng5,Bxe2,Qxe2,h6,Nf3,Qe7,Qd2,Qa3,Bxh6,Qxb3,Rxc8,Rxc8,Qg5,g6,Nh4,Qd3,f4,Bxd4+,Kh2,Qxf1,Nxg6,Bg1+,Kg3,Qf2+,Kg4,Qe2+,Kh4,Bf2+,g3,Bxg3+,Qxg3,Kh7', 'Nf8+,Rxf8,Qg7#', 'https://lichess.org/training/lc8EJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lc9KY', 'Rapid', 'Achensee1', 1788, 'heresantos', 1806, 'f4,e6,Nf3,Nf6,d4,Be7,Nbd2,O-O,e3,d5,Bd3,Ng4,Qe2,f5,O-O,Nc6,h3,Nf6,Ng5,Ne4,Bxe4,dxe4,h4,h6,Qh5,hxg5,hxg5,Qe8', 'g6,Qxg6,Qxg6', 'https://lichess.org/training/Lc9KY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lCaz6', 'Blitz', 'marmat30', 1599, 'ksq', 1647, 'e4,b6,d4,Bb7,Nc3,e6,Be3,Bb4,Bd3,Nf6,a3,Bxc3+,bxc3,Nxe4,Bxe4,Bxe4,f3,Bb7,Ne2,O-O,O-O,d5,Qd2,Nd7,Ng3,c5,f4,cxd4,Bxd4,f6,f5,e5,Be3,Nc5,Nh5,Ne4,Qe2,a5,Qg4,Rf7,Bh6,Qd7,Rad1,Nxc3,Rd3,Ne4,Re1,Qc7,Rxe4,dxe4,Rg3,Qxc2,Nxf6+,Kf8,Nxh7+,Ke8,Bxg7,Rd8,Nf6+,Rxf6,Qh5+,Rf7,Qh8+,Ke7,Bf6+,Rxf6,Rg7+,Rf7,Qh4+,Ke8,Qh8+,Rf8', 'Qh5+,Rf7,Qxf7#', 'https://lichess.org/training/lCaz6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LcBQB', 'Rapid', 'ElPlanetaAZUL', 1914, 'AVENTINO', 1903, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,O-O,Bb4,Nd5,d6,c3,Ba5,d4,O-O,dxe5,Nxe5,Nxe5,dxe5,b4,Bb6,Nxb6,axb6,Qe2,Qe7,f3,c6,Be3,c5,a3,Rd8,Qf2,Nd7,Qg3,Kh7,f4,Nf6,fxe5,Nxe4,Qf4,Qg5,Qxe4+,Qg6,Qh4,Bf5,Rxf5,Qxf5,Rf1,Qxe5,Bxh6,Rd5,Bxd5,Qxd5,Bg5+,Kg8,Qg3,cxb4,axb4,b5,h4,Rc8,Bf6,g6,Qf4,Qh5,Rd1,Qxd1+,Kh2,Qh5,g4,Qh7,h5,gxh5,g5,Qc2+,Kh3,Qd3+,Kh4,Rc4,Bd4,Rc8,Qf6,Qh7', 'g6,fxg6,Qe6+,Qf7,Qxc8+', 'https://lichess.org/training/LcBQB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lcBxR', 'Rapid', 'graychess', 1600, 'ChristianKudeba', 1632, 'e4,c5,Nf3,d6,d3,Nc6,Nbd2,Nf6,g3,e6,Bg2,Be7,c3,O-O,O-O,Qb6,Qc2,Ng4,h3,Nge5,Nxe5,Nxe5,Kh1,Bd7,f4,Nc6,Nf3,Bf6,Be3,Rfc8,Rae1,Nd4,cxd4,cxd4,Qf2,dxe3,Rxe3,Qxb2,Re2,Qa3,e5,dxe5,fxe5,Be7,d4,Bb5,Re3,Rc3,Rxc3,Qxc3,Rb1,Bc6,Rb3,Qc1+,Kh2,Rd8,Nh4,Bxg2,Nxg2,b6,Rf3,Qd1,Rxf7,Qxd4', 'Qxd4,Rxd4,Rxe7', 'https://lichess.org/training/lcBxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LCc6p', 'Rapid', 'bullet_points', 2095, 'Chesstilt', 2144, 'e4,g6,Nf3,Bg7,d4,d6,Bc4,Nf6,Nbd2,O-O,O-O,Nc6,c3,e5,Re1,Nh5,Nb3,Bg4,h3,Bxf3,Qxf3,exd4,Nxd4,Nxd4,cxd4,Bxd4,g4,Qf6,Qxf6,Nxf6,Bg5,Nd7,Rad1,Bxb2,Rb1,Bd4,Rxb7,Bb6,Be3,Nc5,Bxc5,dxc5,Bd5,Rad8,a4,Rfe8,Rc1,Rb8,Rxb8,Rxb8,a5,Bxa5,Rxc5,Rb1+,Kg2,Bb6,Rc3,Rb2,Rf3,a5,Rxf7,Kh8,g5,a4', 'Rf8+,Kg7,Rg8#', 'https://lichess.org/training/LCc6p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lCDjj', 'Rapid', 'Mathematicien1', 2124, 'sekhavatpor', 2023, 'Nf3,e6,d4,c6,Bf4,d5,e3,Nd7,h3,Nb6,a3,Nc4,Bxc4,dxc4,Nbd2,b5,Ne5,Bb7,O-O,Nf6,Qf3,Be7,Ne4,O-O,b4,c5', 'Nxf6+,Bxf6,Qxb7', 'https://lichess.org/training/lCDjj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LcFHg', 'Classical', 'Uchiha_Itachi92', 1688, 'Pawnstar63', 1675, 'd4,e6,Nc3,c6,Bf4,Nf6,e4,Bb4,Qd3,d5,e5,Ne4,Ne2,h6,f3,g5,Be3,Nxc3,Nxc3,Be7,O-O-O,Rg8,Qh7,Kf8,Qxh6+,Ke8,Qh3,f6,Qh5+,Kd7,Na4,fxe5,dxe5,b6,g3,Na6,a3,b5,Nc3,b4,axb4,Nxb4,Rd4,c5,Rg4,d4,Bxd4,cxd4,Rxd4+,Nd5,Nxd5,exd5,Rxd5+,Bd6,Rxd6+,Kc7,Rxd8,Kxd8,e6,Bxe6,Bd3,a5,Rd1,Ke7,Qh7+,Kf6,h4,gxh4,Qxh4+,Kf7,Rg1,Rac8,g4,Rh8,Qf2,Rhd8,g5,Rxd3,f4,Rd5,g6+,Kg7,Qa7+,Rd7,Qxa5,Rf8,Qe5+,Rf6,Rf1,Rd5,Qc7+,Rd7,Qe5,Rd5,Qc3,Kxg6,Qg3+,Kf7,b4,Rd7,c3,Ra7,Kd2,Ra2+,Ke3,Bc4,Rg1,Re6+,Kd4,Bb3,Qg7+,Ke8,f5', 'Rd2+,Kc5,Rd5#', 'https://lichess.org/training/LcFHg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lCfZg', 'Rapid', 'united111', 1653, 'cilbow', 1657, 'e4,Nf6,d3,d5,exd5,Nxd5,c4,Nb6,a4,e6,a5,N6d7,Qf3,Nf6,Bg5,Be7,g3,c6,Nc3,Bb4,Bxf6,gxf6,Be2,Bxa5,Nh3,Nd7,O-O,Ne5,Qh5,Bb6,Rad1,Qd4,Ne4,Ng6,Kh1,f5,Neg5,Qxb2,Rde1,e5,Nxf7,Kxf7,Ng5+,Ke7,Nxh7,Nf8,Qg5+,Ke8,Bh5+,Kd7,Qg7+,Kd6,Qxh8,Ne6,Nf8,Bd7,Qh6,Rxf8,f4,exf4', 'Rxe6+,Bxe6,Qxf8+', 'https://lichess.org/training/lCfZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LCHTy', 'Blitz', 'nachtt0ter', 1990, 'hambaryan', 2052, 'e4,d5,e5,c5,d4,cxd4,Qxd4,Nc6,Bb5,e6,Nf3,Bd7,Bxc6,bxc6,Nc3,c5,Qg4,f5,exf6,Nxf6,Qg3,d4,Ne2,Ne4,Qe5,Qa5+,Bd2,Nxd2,Nxd2,Rc8,Nf4,Qc7,Qh5+,Kd8,O-O,Bd6,Nd3,Qc6,Ne5,Bxe5,Qxe5,Rg8,Nc4,Qd5,Qe2,Bb5,b3,Bxc4,bxc4,Qd6,Rfe1,Kd7,Rab1,Rc7,a4,Re8,Qh5,h6,Qg6,Qe7,Re5,Qf6,Qg3,Rf8,Rbe1,Rc6,h3,Ke7,Qa3,Rfc8,f3,Kf7,a5,a6,Qb3,Kg8,Qb7,R8c7,Qb8+,Rc8,Qb3,Kh7,Qd3+,Qg6,Qe2,Qf6,Qe4+,Kg8,Rxe6,Rxe6,Qxe6+,Qxe6,Rxe6,Rb8,Rxa6,Rb2,Rc6,Rxc2,Rxc5,d3,Rd5,d2,a6', 'Rc1+,Kf2,d1=Q,Rxd1,Rxd1', 'https://lichess.org/training/LCHTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lCiiS', 'Rapid', 'flavafleef', 1669, 'mirella13', 1661, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,e5,d5,Nce7,Bd3,Nf6,Bg5,Ng6,O-O,Be7,Nbd2,h6,Bh4,Nxh4,Nxh4,Nxe4,Bxe4,Bxh4,Qf3,O-O,Rac1,Bg5,Nc4,b5,Ne3,a5,Nf5,Bxf5,Bxf5,Qf6,Qe4,Rac8,Rxc8,Rxc8,h4,Bxh4,Bh7+,Kh8,g3,Rc4,Qf5,Qxf5,Bxf5,Bg5,f4,Bf6,fxe5,Bxe5,b3,Rd4,Bd7,Rxd5,Rxf7,Rd1+,Kg2,Rd2+,Kh3,Rxa2,Bxb5,Rb2,Bc4,Rb1', 'Rf8+,Kh7,Bd3+,g6,Bxb1', 'https://lichess.org/training/lCiiS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lcJCs', 'Blitz', 'Kreteningen', 1948, 'arenfroc', 1909, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Qd2,Nbd7,O-O-O,Nb6,f3,e5,Nb3,Be6,Kb1,Qc7,g4,Rc8,g5,Nfd7,f4,Bc4,h4,Bxf1,Rdxf1,Nc4,Qd3,Nxe3,Qxe3,Nb6,fxe5,dxe5,Nd5,Nxd5,exd5,Bd6,Qf2,O-O,h5,b5,Nc1,a5,Nd3,b4,h6,Rfe8,hxg7,e4,Qh4,Kxg7,Qh6+,Kg8,Qxh7+,Kf8,Qh8+,Ke7,Qf6+,Kd7,Qxf7+,Re7,Qf5+,Kd8,Rh8+,Re8,Rxe8+,Kxe8,Qe6+,Kd8,Ne5', 'Qxc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/lcJCs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lckcI', 'Classical', 'depressed_wombat', 1799, 'francooooooo', 1795, 'd4,Nf6,Bf4,d6,e3,Nc6,Nf3,Bg4,Be2,e6,Nbd2,Be7,h3,Bh5,O-O,Nd5,Bh2,g5,Nxg5', 'Bxe2,Qxe2,Bxg5', 'https://lichess.org/training/lckcI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lCKS8', 'Rapid', 'Tezkabov', 1823, 'YungSmaug', 1804, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d5,exd5,Nxd5,Bb5,f6,b4,Be7,O-O,Bd7,Bc4,Nb6,Bb3,Bg4,h3,Bh5,g4,Bf7,Bxf7+,Kxf7,Bg5,fxg5,b5,Qd5,c4,Qc5,bxc6,bxc6,Re1,Bf6,Nbd2,Rad8,Ne4,Qe7,Nxf6,gxf6,d4,Nxc4,Qb3,Qe6,dxe5,Nxe5,Nxe5+,fxe5,Qf3+,Qf6,Qe4,Rd5,Re3,Qf4', 'Rf3,Kg7,Rxf4', 'https://lichess.org/training/lCKS8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LCL4o', 'Rapid', 'mironov55', 2159, 'impathak', 2142, 'd4,Nf6,Bf4,b6,Nf3,Bb7,e3,g6,Bd3,Bg7,c3,O-O,Nbd2,c5,Qc2,d5,h4,Nc6,h5,c4,hxg6,cxd3,gxh7+,Kh8,Qxd3,a5,O-O-O,a4,Bh6,e6,Bxg7+,Kxg7,Ne5,Rh8,f4,Nxe5,fxe5,Ne4,Nxe4,dxe4,Qe2,Qg5,Rdf1', 'Ba6,Qf2,Bxf1', 'https://lichess.org/training/LCL4o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lCmgC', 'Classical', 'kazbarkal', 1678, 'aidantmehigan', 1616, 'd4,d5,e3,Nf6,h3,Nc6,a3,e5,dxe5,Nxe5,Nf3,Bd6,c3,O-O,Nbd2,Bf5,Nxe5,Bxe5,Nf3,Bd6,Be2,c5,Bf1,a6,g3,b5,Bg2,Ne4,Nd2,a5,Nxe4,dxe4,Qh5,Bg6,Qe2,b4,axb4,cxb4,c4,a4,O-O,a3,bxa3,bxa3,Bd2,Be5,Ra2,f5,Rd1,Qc7,Bb4,Rfd8,Rxd8+,Rxd8,Rxa3,Rb8,Ba5,Qc5,Bf1,Qxa3,Qd2,Ra8', 'Qd5+,Bf7,Qxa8+', 'https://lichess.org/training/lCmgC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lCmIe', 'Rapid', 'NewPawnInTheTown', 1717, 'AliSadi1994', 1739, 'd4,d5,Nf3,Bg4,Bf4,Nc6,Nbd2,f6,e3,Qd7,c3,Nh6,Bxh6,gxh6,Be2,O-O-O,Rc1,e5,dxe5,Bxf3,Nxf3,fxe5,Rc2,Kb8,Rd2,Bd6,Rxd5,Qg7,O-O,e4,Nd4', 'Bxh2+,Kxh2,Rxd5,Nxc6+,bxc6', 'https://lichess.org/training/lCmIe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LCMUg', 'Rapid', 'bhardwaz_cosmic', 1637, 'balkes1010', 1969, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Nc3,b5,Bb3,Be7,d3,O-O,Bg5,d6,h3,Na5,O-O,Nxb3,axb3,Bb7,Re1,c5,Na2,Ne8,Bxe7,Qxe7,c4,b4,Nc1,Nc7,Ne2,Ne6,Ng3,g6,Qd2,Kg7,Nh2,h5,Rf1,Nd4,Qd1,Ne6,Qd2,Nd4,Qd1,Bc8,f4,Qh4,Qe1,Nc2', 'Nf5+,Bxf5,Qxh4', 'https://lichess.org/training/LCMUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lcNHh', 'Blitz', 'mihalis23', 1806, 'arthur_hak', 2122, 'e4,d6,Nf3,Nf6,e5,g6,exf6,exf6,Bc4,Be6,Bb3,Bg7,O-O,O-O,Re1,Bxb3,axb3,Re8,d4,f5,c3,Nc6,Rxe8+,Qxe8,Bd2,Qe4,Qc1,Re8,h3,Qd3,Bh6,Re2,Bxg7,Kxg7,Nbd2,h6,Ra4,a6,h4,Ne7,c4,f4,c5,d5,Rb4,Nf5,Rxb7,Nxd4,Rxc7,Re6,c6,Ne2+,Kh2,Nxc1,Rc8,Qc2,c7,Rc6,Nd4,Qxd2,Nxc6,Ne2,Ne7,Qc1,Rg8+,Kh7,c8=Q', 'Qg1+,Kh3,Qh1+,Kg4,Qxg2#', 'https://lichess.org/training/lcNHh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lCNOz', 'Classical', 'ddx1308', 1831, 'Nesar15', 1641, 'Nf3,d5,g3,c5,Bg2,Nf6,d3,e6,O-O,b6,Nbd2,g6,e4,Bg7,e5,Nfd7,Re1,O-O,c3,Nc6,d4,f6,exf6,Nxf6,Ne5,Nxe5,dxe5,Nd7,f4,Ba6,c4,Bb7,Nf1,Nb8,Ne3,Na6,cxd5,exd5,Nxd5,Qd7,Nc3,Qxd1,Rxd1,Bxg2,Kxg2,Nb4,a3,Nc2,Rb1,Rfd8,Bd2,Rd3,Ne4,Rad8,Nd6,Kf8,Kf2,Kg8,Bc3,Rxd1,Rxd1,Bf8,Rd2,Na1,Ne4,Rxd2+,Nxd2,Nc2,Ke2,Nd4+,Kd3,Nb5,Kc4,a6,a4,Nc7,Ne4,Kf7,Nf6,h6,Nd5', 'b5+,axb5,axb5+,Kd3,Nxd5', 'https://lichess.org/training/lCNOz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lCO0n', 'Rapid', 'elpenetrador', 1704, 'hitrojo11', 1655, 'e4,e5,Nf3,d6,Bb5+,Bd7,Bc4,h6,Nc3,Nf6,O-O,a6,d3,Nc6,Nd5,Be7,Nxe7,Qxe7,h3,O-O,Be3,b5,Bb3,Nb4,c3,Nc6,Bc2,Qd8,Nd2,d5,exd5,Nxd5,Bc5,Re8,Qf3,Nf6,Ne4,Nd5,Bb3,Be6,c4,Nf6', 'Nxf6+,Qxf6,Qxc6', 'https://lichess.org/training/lCO0n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lco1h', 'Rapid', 'alpha_007', 1941, 'TramXler', 1990, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d6,c3,h6,Bb3,a6,Nbd2,Bg4,Re1,O-O,Nf1,d5,Ng3,d4,h3,Bd7,Nh4,Nh7,Nhf5,Be6,Bc2,Ng5,h4,Nh7,Qg4,Qf6,Bxh6,g6,Bxf8,Kxf8,Re2,Ne7,Bb3,gxf5,exf5,Nxf5,Bxe6,Nxg3,Qxg3,fxe6,Qxe5,Qxe5,Rxe5,Bd6,Rxe6,dxc3,bxc3,Kf7,Rae1,Rg8,g3,Nf6,Kg2,Nd5,c4', 'Nf4+,Kf3,Nxe6', 'https://lichess.org/training/Lco1h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lcRdt', 'Classical', 'georgesamy', 1698, 'Low-qi-player', 1642, 'e4,c5,Nf3,Nc6,Nc3,d6,d3,g6,g3,Bg7,Bd2,Bg4,Bg2,Nf6,Qc1,Nd4,Nxd4,cxd4,Ne2,Bxe2,Kxe2,Qd7,Re1,Ng4,Bh3,f5,Bxg4,fxg4,Bh6,O-O,Bxg7,Kxg7,Qg5,Rf6,Kd1,Raf8,e5,Rxf2,exd6,Qxd6,Rxe7+,Kg8,Re1,Rf1,Rc1,Qe6,Qd2,R8f2', 'Qxf2,Rxf2,Rxe6', 'https://lichess.org/training/lcRdt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LCrOc', 'Rapid', 'pavelsps', 1855, 'fendo59', 1820, 'c4,e6,Nc3,Nf6,Nf3,c5,g3,Nc6,Bg2,Be7,d3,O-O,e4,d6,O-O,Re8,Re1,a6,a4,Qc7,a5,Nxa5,e5,Nd7,Bf4,Nc6,exd6,Bxd6,Bxd6,Qxd6,Ne4,Qc7,Nfd2,b6,Qh5,Bb7,Ng5,Nf6,Qh4,Nd4,Nde4,Bxe4,Bxe4,h6,Nf3,Nxe4,Nxd4,cxd4,Rxe4,e5,Rg4,Re6,Re1,Qc6,Qh5,Qf3', 'Rxg7+,Kxg7,Qxf3', 'https://lichess.org/training/LCrOc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LCrXB', 'Blitz', 'voda94', 2209, 'BetLemonadeJoe', 2125, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bf5,Bc4,e6,O-O,c6,Qe2,Nbd7,Bd2,Qc7,Ne5,Nxe5,dxe5,Nd5,Bb3,O-O-O,Rad1,a6,a4,Bc5,Kh1,h5,f4,h4,Ne4,Be7,c4,Nb4,Bc3,h3,g3,Qb6,a5,Qxa5,Nd6+,Bxd6,exd6,Qc5,Bxg7,Rhg8,Be5,a5,Rd2,Rd7,Rfd1,Bg4,Qf2,Qxf2,Rxf2,Bxd1,Bxd1,Nd3,Rd2,Nc5,Kg1,Rgd8,Bg4,Ne4,Rd4,Nxd6,Bxh3,Nf5,Rxd7,Rxd7,Bxf5,exf5,h4,Rd8,h5,Kd7,h6,Ke7,Bg7,f6,h7,Kf7', 'h8=Q,Rxh8,Bxh8,b5,cxb5', 'https://lichess.org/training/LCrXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lCSRl', 'Blitz', 'findthebest', 1614, 'Murgleis', 1631, 'd4,d5,Bf4,Nf6,e3,e6,c3,Bd6,Bg3,Nc6,Bd3,Bxg3,hxg3,h6,Nf3,Qe7,Nbd2,e5,Bc2,Bg4,dxe5,Nxe5,Qe2,O-O-O,O-O-O,Nxf3,gxf3,Be6,Kb1,g6,Nb3,a6,Rd2,Rhe8,Rhd1,h5,Nd4,Bd7,Bd3,c5,Bxa6,cxd4,cxd4,Bc6,Rc2,Kc7,Bb5,Ra8,Rdc1,Rec8,Bxc6,bxc6,Rxc6+,Kd8,Qb5,Rcb8,Qc5,Qxc5,R6xc5,Ke7,Rc7+,Ke6,R7c6+,Kf5,e4+,dxe4', 'R1c5+,Nd5,Rxd5#', 'https://lichess.org/training/lCSRl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LCSzs', 'Rapid', 'omirkoo', 2060, 'Ebubee', 2086, 'd4,Nf6,Bf4,e6,e3,b6,c3,Bb7,Nd2,d5,Ngf3,Nbd7,Bd3,c5,Ne5,Nxe5,dxe5,Nd7,h4,c4,Bc2,Qc7,Qf3,Nxe5,Bxe5,Qxe5,Nxc4,Qc7,Nd2,Be7,Qg4,Bf6,Rh3,Bc8,O-O-O,b5,Kb1,e5,Bf5,Bxf5+,Qxf5,Rc8,g4,b4,g5,Be7,Rf3,Rf8,Rc1,e4,Rf4,bxc3', 'Rxc3,Qxc3,bxc3', 'https://lichess.org/training/LCSzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LCtHS', 'Rapid', 'johndoe123456', 1650, 'Bananan11', 1793, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bd6,Bxc6,bxc6,d4,Qe7,O-O,exd4,Nxd4,Qe5,f4,Qh5,e5,Ng4,h3,Bxe5,hxg4,Bxd4+,Rf2,Qc5,Qe2+,Kf8,Be3,Bxe3,Ne4,Bxf2+,Nxf2,Rb8,Re1,Bb7,Kh1,g6,Ne4,Qe7,f5,gxf5,gxf5,Qh4+,Kg1,Re8,g3,Qxe4,Qxe4,Rxe4,Rxe4,d5,Rb4,Ba6', 'Rb8+,Kg7,f6+,Kxf6,Rxh8', 'https://lichess.org/training/LCtHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lcvRH', 'Blitz', 'mr1800', 1636, 'Zastrozhyn', 1643, 'e4,e5,c4,Nf6,d3,Bc5,h3,Nc6,Nf3,d6,Be2,Be6,O-O,Qd7,Nh2,h6,Nc3,O-O-O,Nd5,Nh7,a3,Bxd5,cxd5,Nd4,Bg4,f5,exf5,Nf6,b4,Bb6,Be3,Kb8,Bxd4,Bxd4,Rc1,h5,Bf3,Qxf5,Qc2,Rd7,a4,g5,Be4,Nxe4,dxe4,Qf7,Nf3,g4,Nxd4,gxh3,g3,exd4,Kh2,h4,a5,Qf3,Rg1,Rf7,Rcf1,Rg7,Qd1,hxg3+,fxg3,Qxe4,Qf3,Qxf3,Rxf3,c6,dxc6,bxc6,Rgf1,Rhh7,Rf6,Kc7,R1f3,c5,bxc5,dxc5,R3f5,d3,Rxc5+,Kb7', 'a6+,Kb8,Rf8#', 'https://lichess.org/training/lcvRH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lcwaL', 'Rapid', 'BoBBY0019', 1867, 'lb25', 1783, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,O-O,Be7,c3,Nf6,Re1,O-O,d4,exd4,cxd4,h6,Nbd2,Nb4,Bxd7,Qxd7,Nf1,Qb5,a3,Nd3,Qe2,a6,Rd1,Nxc1,Qxb5,axb5,Raxc1,c6,Ng3,g6,e5,Nd5,exd6,Bxd6,Ne5,Nf6,Nd3,Nd5,Nc5,b6,Nd7,Rfd8,Ne5,Bxe5,dxe5,c5,Ne4,b4', 'Rxd5,Rxd5,Nf6+,Kf8,Nxd5', 'https://lichess.org/training/lcwaL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lcWoZ', 'Classical', 'Shahradmn', 1786, 'Rat_irl', 1787, 'e4,c5,Nc3,e6,f4,Nc6,Nf3,Nf6,Bb5,d5,exd5,Nxd5,Nxd5,Qxd5,Bxc6+,Qxc6,O-O,g6,d4,Bg7,Ne5,Bxe5,dxe5,O-O,h3,b6,Qf3,Qxf3,Rxf3,Bb7,Rd3,Rad8,Rxd8,Rxd8,Be3,Be4,c3,Kg7,Kf2,f5,g3,h6,Ke2,Bg2,h4,Be4,Rd1', 'Bf3+,Kxf3,Rxd1', 'https://lichess.org/training/lcWoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LCwP0', 'Rapid', 'MohamedTaherTobar', 1778, 'CheckTotheK1NG', 1683, 'e4,e5,f4,exf4,Bc4,Qh4+,Kf1,Nf6,Nc3,Ng4,Qf3,Bc5,d4,Bxd4,Bxf4,Qf2+,Qxf2,Nxf2,Nf3,Bxc3,Kxf2,Bxb2,Rab1,Bf6,Bxc7,Nc6,Bd6,b6,Bd5,Bb7,Rhe1,Be7,e5,O-O-O', 'Bxc6,Bxc6,Bxe7', 'https://lichess.org/training/LCwP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LcWZq', 'Rapid', 'yandi3171', 2124, 'alexluzhin', 2138, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,Nc3,Qe7,Nb5,Qxe4+,Qe2,Qxe2+,Bxe2,Ba5,O-O,Nge7,Bf4,d6,Rad1,O-O,Bf3,a6,Na3,Ng6,Bd2,Nge5,Be2,Nd4,Bd3,Nxd3,cxd3,Re8,Nd5,Bxd2,Nxc7,Ba5,Nxe8,Be6,Nxd6,Bxa2,Nxb7,Bb6,Nc4,Rb8,Nbd6,Bc5,Ne4,Be7,Rd2,f5,Nc3,Bb3,Re1,Bf6,Nd5,Ba4,Nxf6+,gxf6,f3,Bb5,Kf2,Nb3,Rde2,Rd8,Re6,Rxd3,Nd6,Rd2+,Kg3,Nd4,Rxf6,Ne2+,Kh3', 'Nf4+,Kg3,Nh5+', 'https://lichess.org/training/LcWZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lcxKy', 'Rapid', 'AHMEDALAZZAMI', 2008, 'chuckymm', 2000, 'b3,Nf6,Bb2,g6,e3,Bg7,c4,O-O,Nf3,c5,d4,cxd4,exd4,d5,Nc3,Nc6,c5,Bg4,Be2,Ne4,O-O,Bxf3,Bxf3,Bxd4,Bxe4,dxe4,Na4,Bxb2,Nxb2,Qxd1,Raxd1,Rfd8,a3,Ne5,Rfe1,Nd3,Nxd3,Rxd3,Rxd3,exd3,Rxe7', 'd2,Rd7,Re8', 'https://lichess.org/training/lcxKy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lCxRJ', 'Rapid', 'nourhene', 1833, 'astarothein', 1871, 'd4,d5,c4,e6,Nc3,c5,cxd5,exd5,Nf3,Nf6,g3,Nc6,Bg2,cxd4,Nxd4,Nxd4,Qxd4,Be6,O-O,b6,Bg5,Bc5,Qa4+,Bd7,Qb3,Be6,Bxf6,Qxf6,Nxd5,Bxd5,Bxd5,Rc8,Qb5+,Ke7,e3,Rhd8,Bg2,Rd2,Rfd1', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/lCxRJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lcz2v', 'Rapid', 'oktay0007', 1746, 'Mahmoud_mekky', 1720, 'e4,e5,Nf3,Nc6,Nc3,Bc5,d3,Nf6,Be3,Bb6,d4,exd4,Nxd4,O-O,Nxc6,bxc6,Bg5,Bc5,Bc4,Be7,O-O,h6,Bh4,d6,Re1,Ng4,Bxe7,Qxe7,h3,Ne5,Bb3,Qg5,Re3,Be6,Rg3,Qf6,Qd2,a5,a3,Rad8,Ne2,Ra8,Nd4,a4,Nxe6,fxe6,Ba2,Ng6,Re1,Kh7,c3,Nf4,Rf3,Qg5,Rg3', 'Nxh3+,gxh3,Qxd2', 'https://lichess.org/training/Lcz2v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LcZAO', 'Rapid', 'kingdom15', 2002, 'ArsMir', 1964, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bd2,Ngf6,O-O-O,Qc7,Ne4,Nxe4,Qxe4,Nf6,Qe2,Bd6,Ne5,O-O-O,g4,c5,Nc4,Bf4,dxc5,Bxd2+,Rxd2,Qxc5,Rh3,Rxd2,Nxd2,Rd8', 'Rc3,Qxc3,bxc3', 'https://lichess.org/training/LcZAO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LCzOF', 'Rapid', 'dnk588', 1779, 'lulumoc98', 1754, 'e4,d5,exd5,Nf6,c4,g6,Nc3,Bg7,d3,O-O,Bg5,Bf5,Nf3,c6,dxc6,Nxc6,Be2,Nd4,Nxd4,Qxd4,Be3,Qd7,O-O,a6,d4,Rfd8,d5,e6,dxe6,Qxe6,Qb3,Rd7,Rad1,Rad8,Rxd7,Rxd7,Rd1,Rxd1+,Bxd1,Qc6,Bf3,Be4,Nxe4,Nxe4,h3,f5,c5+,Kf8,Qb4,Bf6,b3,Be7,Bh6+,Kf7,Qc4+,Kf6,Qd4+,Ke6,Bg7,Bxc5,Qe5+,Kd7,Bh6,Bxf2+,Kh2,Bg3+', 'Qxg3,Nxg3,Bxc6+,Kxc6,Kxg3', 'https://lichess.org/training/LCzOF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ld03t', 'Rapid', 'Baran3008', 1670, 'ahmett__1960', 1690, 'e4,g6,d4,Bg7,Nf3,d6,c4,Nf6,Nc3,O-O,Be3,c6,Be2,d5,e5,Ne8,c5,f6,O-O,fxe5,Nxe5,Bxe5,dxe5,Be6,Bh6,Ng7,Bg4,Bxg4,Qxg4,Rf5,f4,e6,Rad1,Nd7,b4,a5,a3,axb4,axb4,Ra3,Rf3,Qa8,Nxd5,cxd5,Rxa3,Qxa3,Rf1,Qxb4,Bxg7,Kxg7,h4,Qxc5+,Kh2,Nxe5,fxe5,Rxf1,Qxe6,Rf5,Qd7+,Kh6,e6,d4,e7,Qe5+,Kh3,Qe3+,g3,Re5,Qxb7,Rxe7,Qb8,Qe6+,Kh2,Qe2+,Kh3,Re6,Qf8+,Kh5,Qf4,Qe3,Qc7,Re7,Qc5+,Qe5,Qc8,Qf5+', 'g4+,Kh6,gxf5', 'https://lichess.org/training/Ld03t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lD0UR', 'Rapid', 'zerby7', 1725, 'CitronSauvage', 1854, 'e4,c5,Bc4,d6,Nf3,a6,d3,g6,Ng5,e6,Qf3,Nh6,h4,Nc6,Be3,Bg7,Nc3,b5,Bb3,b4,Ne2,Bxb2,Rb1,Bc3+,Kd1,Bg7,h5,O-O,Nf4,Qxg5,hxg6,fxg6,Nxe6,Bxe6,Qxf8+,Rxf8', 'Bxe6+,Kh8,Bxg5', 'https://lichess.org/training/lD0UR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lD19S', 'Classical', 'packetrat', 1734, 'Viscaria', 1820, 'e4,c5,Nf3,d6,Bb5+,Nc6,Bxc6+,bxc6,O-O,Nf6,Re1,Bg4,h3,Bh5,d3,e6,Nbd2,Be7,Nf1,Bg6,Ne3,O-O,Nc4,Nd7,b3,Nb6,Ne3,Bf6,Rb1,Bh5,g4,Bg6,Nh2,d5,f4,h6,e5,Bh4,Rf1,Bg3,f5,Bxh2+,Kxh2,exf5,gxf5,Bh7,f6,Qc7,Ng4,h5,Nh6+,gxh6,Rg1+,Bg6,Qxh5,Rfe8,Rxg6+,fxg6,Qxg6+,Kh8,Bxh6,Qxe5+,Kh1,Rg8', 'Bg7+,Rxg7,Qxg7#', 'https://lichess.org/training/lD19S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ld36L', 'Blitz', 'ChandulaEDS', 1878, 'zirconiu', 2137, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d3,Be6,Bxe6,fxe6,Qb3,Qc8,Ng5,Ke7,O-O,h6,Nf3,Nf6,Be3,Bb6,Nbd2,Rf8,d4,exd4,cxd4,Na5,Qc2,Kf7,e5,Nd5,Nh4,Kg8,Qg6,Nxe3,fxe3,Qd7,exd6,cxd6,Ne4,Qe7,Rf3,Rxf3,Nxf3,e5,Rf1,exd4,exd4,Rf8,Nxd6,Rxf3,Rxf3', 'Qe1+,Rf1,Bxd4+,Kh1,Qxf1#', 'https://lichess.org/training/Ld36L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lD3Zi', 'Rapid', 'chrisc40', 2093, 'dhensky', 1632, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Nc3,Nxe5,Nxe5,Qxe5,e4,Nf6,Bd3,Bb4,Bd2,O-O,O-O,c6,a3,Ba5,h3,Bc7,f4,Qd4+,Kh1,d5,e5,Ne4,Nxe4,dxe4,Bc3,Qe3,Qe2,Qxe2,Bxe2,Be6,b3,b5,Bb4,Rfe8,Rad1,a5,Bc5,a4,b4,Rad8,g4,Bd5,Kg1,f6,exf6,gxf6,Be3,Kg7,Kf2,h6,Rg1,Kh7,h4,Rg8,g5,fxg5,hxg5,hxg5,Rh1+,Kg6,Rdg1,Bxf4,Bxf4,e3+,Bxe3,Bxh1,Rxh1,Rgf8+,Bf3', 'g4,Rh6+,Kg7,Rh4,Rxf3+', 'https://lichess.org/training/lD3Zi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ld6D2', 'Rapid', 'SickPyscho', 1979, 'shyamall', 1801, 'e4,g6,d4,Bg7,h4,b6,Be3,Bb7,Nc3,d6,Qd2,c6,f4,Qc7,g4,Nd7,O-O-O,a5,d5,a4,dxc6,Bxc6,Nf3,a3,b3,Ra5,Nd4,b5,Ndxb5,Bxb5,Nxb5,Rxb5,Bxb5,Bb2+,Kb1,Nf6,e5', 'Ne4,Qe1,Nc3+', 'https://lichess.org/training/ld6D2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lD8y6', 'Rapid', 'trkgl', 1607, 'gmeus', 1626, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Bxf7+,Kxf7,Nxe5+,Nxe5,Qh5+,Ng6,Qxc5,N8e7,d4,Rf8,e5,Kg8,Qc4+,d5,exd6+,Kh8,dxe7,Qxe7+,Be3,Nf4,O-O,Be6,d5', 'Bxd5,Qxf4,Rxf4', 'https://lichess.org/training/lD8y6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LD9CO', 'Rapid', 'Pacholok', 1899, 'chessnickname', 2003, 'Nf3,d5,g3,c5,Bg2,Nc6,O-O,Bf5,d3,e6,Re1,Bd6,Nbd2,Qc7,e4,dxe4,Nxe4,Bxe4,dxe4,Rd8,Qe2,Nd4,Qc4,b5,Qc3,Nxf3+,Qxf3,Nf6,Bg5,Be5,c3,Ke7,Rad1,h6,Bxf6+,gxf6,Qe3,h5,f4,Bd6,e5,fxe5,fxe5,Bxe5,Qxe5', 'Qxe5,Rxe5,Rxd1+', 'https://lichess.org/training/LD9CO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lDCkq', 'Blitz', 'Atlas855', 1553, 'VA1975', 1557, 'e4,c5,c4,e6,Nc3,a6,g3,b6,Nge2,Bb7,Bg2,Qc7,O-O,d6,d3,h6,Bf4,e5,Bd2,Nf6,Rb1,Be7,f4,exf4,Bxf4,Nbd7,a3,O-O,b4,Qc8,Bh3,Qd8,bxc5,dxc5,d4,Nxe4,dxc5,Ndxc5,Bg2,Nxc3,Nxc3,Bxg2,Kxg2,Nd3,Be3,Bc5,Rf3,Bxe3,Rxe3,Nc5,Nd5,Rb8,Qg4,Re8', 'Rxe8+,Qxe8,Nf6+,Kh8,Nxe8', 'https://lichess.org/training/lDCkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDDII', 'Rapid', 'Nodiko', 2360, 'Alberto-Rubio', 2155, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Nc3,Ngxe5,Be2,O-O,O-O,d6,b3,a6,Bb2,Bf5,a3,a5,Nd5,h6,h3,Rc8,Nxe5,Nxe5,b4,Ba7,Bxe5,dxe5,Bg4,Bxg4,Qxg4,c6', 'Qxc8,Qxc8,Ne7+,Kh7,Nxc8', 'https://lichess.org/training/LDDII');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lDDmH', 'Rapid', 'meikiu', 1925, 'elrazo', 1892, 'd4,d5,Nf3,h6,c4,dxc4,Nc3,Nf6,e3,Bg4,Bxc4,e6,O-O,Nbd7,a3,a6,b4,b5,Be2,Be7,Bb2,O-O,Rc1,Nb6,Ne5,Bxe2,Nxe2,Nfd5,Nc6,Qd7,Nxe7+,Qxe7,Nc3,Nxc3,Rxc3,Nc4,Qc2,Rfd8,Rd1,c6,Rcd3,Qg5,e4,Qg4,Rg3,Qf4,d5,exd5,Rxg7+,Kf8,exd5,Rxd5,Re1,Nxb2,Qh7,Re5,Qh8+,Ke7,Rxe5+,Qxe5', 'Rxf7+,Kxf7,Qxe5', 'https://lichess.org/training/lDDmH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDgeG', 'Rapid', 'tomato1029', 1685, 'Papousys', 1646, 'g3,e5,Bg2,Nf6,d3,Bc5,Nc3,Ng4,e3,Qf6,Bf3,Nh6,e4,c6,Nh3,d6,Bg5,Qe6,Bxh6,Qxh6,Bg4,Be6,O-O,d5,exd5,cxd5,Nb5,Na6,Re1,Qf6,Qe2,O-O,Bxe6,Qxe6,Ng5,Qf5,Nf3,Rae8,Nxe5,Rxe5,Qxe5', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/LDgeG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ldger', 'Rapid', 'Gofio73', 1966, 'Koun_nikos', 1886, 'e4,c5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Nf6,d3,g6,Nc3,Bg7,O-O,Ba6,Be3,O-O,Qd2,Rb8,Rab1,c4,d4,d5,e5,Nd7,Bh6,e6,Nh2,c5,Bxg7,Kxg7,f4,cxd4,Qxd4,Qb6,Qxb6,Rxb6,Nf3,Rfb8,Na4,R6b7,b3,cxb3,cxb3,Bxf1,Kxf1,Nb6,Nc5,Rc7,Na6,Rbc8,Nxc7,Rxc7,Nd4,Nd7,Ke2,a6,Kd2,Nc5,Rc1,Ne4+,Kd1,Nf2+,Kd2,Rxc1,Kxc1,Nd3+,Kd2,Nxf4,Nc6,Nxg2,Nb4,Nf4,Nxa6,Nxh3,Nc5,Ng5,Ke3,f5,b4,Kf7,b5,Ke7,b6,Kd8,a4,Kc8,a5,Kb8,a6,Nf7,Kd4,Nd8,Nd7+,Ka8,b7+,Nxb7,axb7+,Kxb7,Nf8,h5,Nxg6,Kc7,Kc5,Kd7,Kd4,Ke8,Kc5,Kf7,Nf4,h4,Kd6,d4,Kd7,h3,Nxh3,d3,Nf2,d2,Kd8,f4,Kd7,f3,Kd8', 'Kg6,Ke7,Kf5', 'https://lichess.org/training/Ldger');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDGrc', 'Blitz', 'NdrinaRazafy', 2053, 'meliniak', 2078, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,g3,d5,Bg2,dxe4,O-O,O-O,Bxe4,Nxd4,cxd4,Rd8,Nc3,Bxd4,Bxd4,Qxd4,Qf3,Be6,Bxb7,Rab8,Rfd1,Qb4,Rxd8+,Rxd8,Be4,Qxb2,Rc1,Qd2,Rd1,Qxd1+,Nxd1,Ng6,Bxg6,hxg6,Ne3,Bxa2,h4,a5,Kg2,a4,Qf4,Bb3,Qxc7,Rd2,Qc8+,Kh7,Qc3,Rd7,Ng4,Rb7,h5,gxh5,Ne5,a3,Qa1,a2,Nd3', 'Bd5+,f3,Rb1,Qxa2,Bxa2', 'https://lichess.org/training/LDGrc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lDHOO', 'Blitz', 'brain_master', 1986, 'Schnupfi', 2139, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,Bxc6,O-O,Bc5,f3,Bb5,Re1,Nf2,Qd2,Nd3,cxd3,Qh4,Nc3,Bxd4+,Kh1,Bf2,Re2,Bg3,h3,Bd7,Nxd5,Bxh3,Qg5', 'Bxg2+,Kxg2,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/lDHOO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lDk6w', 'Rapid', 'popo1313', 1963, 'krnov', 1918, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,c3,Be7,Bg5,O-O,Bd3,h6,Bh4,Bg4,O-O,c6,Nbd2,b5,Qc2,Nbd7,a4,a6,Rfe1,Bd6,b3,b4,c4,a5,h3,Be6,Ne5,Qc7,Ndf3,dxc4,bxc4,Rfb8,Bg3,Bxe5,Nxe5,Nxe5,Bxe5,Qd8,f4,Rb7,f5,Bd7,Be4,Nxe4,Qxe4,f6,Bd6,Bxf5,Qxc6,Rd7,c5,Rc8', 'Qd5+,Kh8,Qxf5', 'https://lichess.org/training/lDk6w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lDLC9', 'Blitz', 'CClskn', 1609, 'Chessforthepuss', 1620, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bd7,d3,a6,Ba4,Nf6,h3,b5,Bb3,Be7,Be3,Qc8,Nd5,Be6,Ng5,Bd7,Nxf6+,Bxf6,Nxf7,Rf8,Ng5,Bxg5,Bxg5,Be6,Qh5+,Bf7,Bxf7+,Rxf7,Qxh7,Qe6,Qg8+,Kd7,Qxa8,Nd4,Qd8+,Kc6,O-O-O,Qxa2,Qa8+,Kd7,Qd5,Qa1+,Kd2,Rxf2+,Ke1', 'Re2+,Kf1,Qxd1#', 'https://lichess.org/training/lDLC9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lDlMy', 'Blitz', 'Michela1972', 1949, 'luigi7415', 1953, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Be3,g6,f3,Bg7,Bd3,Be6,c5,O-O,a3,Bd7,Nge2,e6,O-O,b6,b4,bxc5,bxc5,Rb8,Qd2,Rb3,Bc2,Rb7,Rfb1,Qc8,Rxb7,Qxb7,Rb1,Qa6,a4,Rb8,g3,Rxb1+,Nxb1,Ne8,Bd3,Qxa4,Bc2,Qb5,Bd3,Qb7,Nbc3,Qb4,Bc2,a5,Qd3,Bc8,Ba4,Bb7,Kf2,Nc7,h3,Ba6,Qd1,Bxe2,Nxe2,Ne7,Bd2,Bxd4+,Kg2,Qxc5,Bxa5,Be5,Qd2,Bd6,Bc3,Nf5,g4,Ne3+,Kh1,Nc4,Qh6,e5,Nf4,d4,Nh5,Bf8', 'Nf6+,Kh8,Qxh7#', 'https://lichess.org/training/lDlMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LdltL', 'Rapid', 'hajalizade', 1730, 'magen', 1658, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bb5,Bc5,O-O,d6,Bxc6+,bxc6,d3,O-O,d4,exd4,Nxd4,Bg4,Qd3,Re8,Nxc6,Qd7,Nd4,Bb4,h3,Bh5,Nd5,Rxe4,Nxb4,c5,c3,cxd4,cxd4', 'Be2,Qxe4,Nxe4', 'https://lichess.org/training/LdltL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDlZW', 'Classical', 'ptekang_bhijen', 2000, 'AnnatarChess', 1800, 'c4,e5,Nc3,Nf6,e3,Nc6,Qc2,d6,a3,g6,Bd3,Bg7,b3,O-O,Bb2,Be6,h4,Na5,Nge2,a6,Ng3,b5,h5,bxc4,bxc4,Nxc4,hxg6,fxg6,Bxc4,Bxc4,Nce4,d5,Ng5,Re8,Nxh7,Nxh7,Qxg6,Nf6,Nf5,Qd7,O-O-O,Reb8,Rh4,Rxb2,Kxb2,Rb8+,Ka1,e4,Rdh1,Ne8+,Nxg7,Qxg7+,Qxg7+,Kxg7,Rg4+,Kf6,Rh6+,Ke7,Rg8,d4,Rh7+,Kd8', 'Rxe8+,Kxe8,Rh8+,Kf7,Rxb8', 'https://lichess.org/training/LDlZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDmX5', 'Rapid', 'abscyk', 1889, 'chihebghalleb1981', 1837, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nb3,Be7,g4,b5,a3,Be6,Nd5,Nc6,Bg2,Ra7,O-O,Qd7,g5,Bxh3,Nxf6+,Bxf6,gxf6,gxf6,Kh2,Bxg2,Kxg2,Rg8+,Kh2,Rg4,Rg1', 'Rh4+,Kg2,Qh3#', 'https://lichess.org/training/LDmX5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDn5d', 'Rapid', 'ayman111', 2071, 'Alos12', 1993, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,e3,Be7,Bd3,dxc4,Bxc4,b5,Bd3,a6,e4,Nbd7,e5,Nd5,Nxd5,cxd5,O-O,Bb7,Bd2,Rc8,Rc1,Nb6,Rxc8,Qxc8,b3,h6,Qe2,O-O,Rc1,Qd8,h3,Bc8,Ba5,Bd7,Bb1,Qb8,Qc2,g6,Qc7,Rc8,Qxb8,Rxb8,Rc7,Bd8,Bxb6', 'Bxc7,Bxc7,Rc8,Ba5,Rc1+', 'https://lichess.org/training/LDn5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDo3B', 'Bullet', 'perdadetempo', 1942, 'Tyral777', 1920, 'd4,e6,Nf3,d5,g3,c5,Bg2,Nc6,O-O,cxd4,Nxd4,Nxd4,Qxd4,Nf6,c4,Be7,Nc3,dxc4,Qxc4,O-O,Rd1,Qb6,Be3,Qxb2,Rab1,Qa3,Qc7,Bb4,Nb5,Qxa2,Rxb4,a6,Nd4,Nd5,Bxd5,exd5,Rb6,Bg4,Rxb7,Bxe2,Nxe2,Qxe2,Rxd5,Rac8,Qb6,Qf3,Rdd7,Rfe8,Rxf7', 'Rc1+,Bxc1,Re1#', 'https://lichess.org/training/LDo3B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LdoiV', 'Classical', 'ashwanikr', 1636, 'Francis62221', 1635, 'e4,g6,Nf3,Bg7,Ng5,e6,Nxf7,Kxf7,Bc4,Ne7,O-O,Rf8,f4,Kg8,f5,Kh8,fxg6,Nxg6,Nc3,Rxf1+,Qxf1,Qf8,Qe1,Nc6,d3,Nce5,Bg5,c6,Qd2,b5,Bb3,a5,a4,b4,Ne2,c5,Rf1,Qe8,Bh6,Bb7,Bxg7+,Kxg7,Nf4,Nxf4,Qxf4,d6', 'Qf6+,Kg8,Bxe6+,Qxe6,Qxe6+', 'https://lichess.org/training/LdoiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDOS6', 'Rapid', 'Queengambi10', 1781, 'Darksuicide', 1835, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,Nc3,h6,Nf3,Nxf3+,Qxf3,Bd6,O-O,Bg4,Qe3,O-O,f3,Bh5,d3,Nd7,a3', 'Bc5,Qxc5,Nxc5', 'https://lichess.org/training/LDOS6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lDOun', 'Rapid', 'raoakhi25', 1671, 'peterlx', 1664, 'd4,Nf6,Nc3,e6,e4,Bb4,Bg5,Bxc3+,bxc3,h6,Bh4,g5,Bg3,Nxe4,Be5,f6,Qd3,Nxc3', 'Qg6+,Kf8,Bxf6,Qxf6,Qxf6+', 'https://lichess.org/training/lDOun');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ldp2z', 'Blitz', 'Uchiha_Madara20', 2045, 'OakCliffTX', 2043, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,Nbd7,Nf3,e6,Bd3,Be7,O-O,c5,c3,Qc7,Qe2,O-O,Ne5,b6,Bg5,h6,Nxd7,Bxd7,Bxf6,Bxf6,Ne4,Be7,f4,cxd4,cxd4,Bc6,Rac1,Qb7,f5,exf5,Rxf5,Rae8,Qg4,Bd7,Rcf1,Bxf5,Qxf5,Qc8', 'Nf6+,Bxf6,Qh7#', 'https://lichess.org/training/Ldp2z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDPDW', 'Bullet', 'Hisham1992', 1949, 'Carthagodelendaest', 1966, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Qd2,Be7,f3,Qc7,h4,O-O,g4,b5,Bd3,Bb7,O-O-O,Nc6,Kb1,Nd7,h5,Nc5,g5,b4,Nxc6,Bxc6,Ne2,a5,g6,e5,gxh7+,Kxh7,Bxc5,dxc5,f4,Rfd8,h6,g6,f5,Bxe4,fxg6+,fxg6,Qe3,Bxd3,cxd3,c4,dxc4,Qxc4,Qxe5,Bf8,Nd4,Rac8,b3,Qc3,Qe4,Re8,Ne6,Rc6,Nxf8+,Rxf8,Qe7+,Kg8', 'h7+,Kh8,Qxf8#', 'https://lichess.org/training/LDPDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ldQE6', 'Rapid', 'xpxx2020', 1999, 'kadog', 1945, 'Nf3,c5,c4,g6,Nc3,Bg7,g3,e6,Bg2,Ne7,e4,O-O,O-O,d5,d3,Nbc6,a3,a6,Qc2,Nd4,Nxd4,Bxd4,Ne2,Bg7,cxd5,exd5,Qxc5,dxe4,dxe4,Nc6,Rb1,Be6,Be3,Rc8,Rbd1,Qe8,Qb6,Ne5,b3,Bg4,f3,Be6,Nf4,Nc6,Nxe6,Qxe6,f4,Rfd8,Bf2,Nd4,Bxd4', 'Bxd4+,Qxd4,Rxd4', 'https://lichess.org/training/ldQE6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LdQI4', 'Classical', 'Leonova', 1931, 'Dr_drunkenchess', 1960, 'e4,c5,Nc3,e6,f4,Nc6,Nf3,d5,Bb5,Ne7,O-O,a6,Bxc6+,Nxc6,exd5,exd5,d4,cxd4,Nxd4,Be7,Re1,O-O,Be3,Bf6,Qd2,Re8,Rad1,Qd6,Nf3,Be6,Nxd5,Bxb2', 'Nf6+,Bxf6,Qxd6', 'https://lichess.org/training/LdQI4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDsgQ', 'Rapid', 'ligurematto', 1793, 'AlfiereCieco', 1713, 'e4,e6,d4,d5,exd5,exd5,Nf3,h6,Be3,Nf6,h3,Bd6,Nc3,c6,Bd3,O-O,Qd2,Re8,O-O-O,Ne4,Nxe4', 'dxe4,Bxe4,Rxe4', 'https://lichess.org/training/LDsgQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lDT2m', 'Rapid', 'bogdan81', 2007, 'Dima_N', 2052, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,h5,c3,g5,b4,g4,bxc5,gxf3,Qxf3,Nf6,d4,Rg8,d5,Na5,Nd2,d6,cxd6,cxd6,Bb5+,Ke7,Ba3,Bg4,Qe3,a6,Be2,Bxe2,Qxe2,Qd7,Bb4,Qh3,Qf3,Qxf3,Nxf3,Nc4,Rfe1,Rg4,a4,Nxe4,a5,Rag8,g3,h4,Kg2,hxg3,hxg3,f5,Rh1,Nf6,Rae1,Nxd5,Nxe5,Nxe5', 'Rxe5+,Kd7,Rxd5', 'https://lichess.org/training/lDT2m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lDTvw', 'Rapid', 'AlphonseSantoro', 1945, 'Demarshal', 1872, 'd4,c6,c4,d5,Nc3,Nf6,Nf3,dxc4,e4,b5,e5,Nd5,Ne4,Bf5,Nc5,e6,Nh4,Qxh4,Nb7,Bb4+,Bd2,Ne3,Qe2,Nc2+,Kd1,Bxd2,Qxd2,Nxa1,Nd6+,Kf8,g3,Qh6,Qa5,Bg4+,Be2,Bxe2+,Kxe2,g6', 'Qd8+,Kg7,Qf6+,Kg8,Qxf7#', 'https://lichess.org/training/lDTvw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LdUPW', 'Rapid', 'ElfofSerenity', 1801, 'dylanov', 1812, 'e4,e6,d4,c5,Be3,cxd4,Bxd4,Nc6,Be3,Nf6,Nd2,Be7,Bc4,a6,Ne2,O-O,h3,b5,Bd3,Bb7,g4,Ne5,f4,Nxd3+,cxd3,d5,g5,Nh5,Rg1,g6,Ng3,Nxg3,Rxg3,d4,Bf2,f6,h4,fxg5,hxg5,Rxf4,Qb3,Qd6,O-O-O,Rxf2,Nc4,Qxg3,Nb6,Qxg5+,Kb1,Raf8,Qxe6+,Kg7,Nd7,Bc8,Nxf8,Rxf8,Qc6,Bg4,Rg1,h5,Qxa6,Qc5,a3,Rc8,Qb7,Qc2+,Ka1,Rc7,Qxb5,Be6,Qe5+,Kf7,Rf1+,Ke8,Qxe6,Qxd3,Qxg6+,Kd8,Qg8+,Kd7,Qd5+,Kc8,Rg1,Qc4', 'Rg8+,Bf8,Rxf8#', 'https://lichess.org/training/LdUPW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDUrt', 'Rapid', 'domprocopio', 1950, 'rezo2015', 1895, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Re1,Nf6,c3,a6,Ba4,b5,Bb3,Be7,d4,O-O,Nbd2,Na7,dxe5,dxe5,Nxe5,Bc8,Qe2,Bb7,Bc2,Nc6,Ndf3,Bd6,Nxc6,Bxc6,Nd4,Bb7,e5,Re8,f4,Nd7,Qd3,g6,Be3,Be7,e6,Nc5,exf7+,Kxf7,Qe2,Bd6,Qg4,Bc8,Qf3,Bb7,Qf1,Be4,Bxe4,Nxe4,f5,Qf6,fxg6+,hxg6,Qd3,Kg7,Rf1,Qe5,Nf3,Qh5,Rae1,Nc5,Qc2,Rf8,b4,Rxf3,Rxf3,Qxh2+,Kf2,Nd7,Bd4+,Ne5,Rg3', 'Rf8+,Ke2,Qxg3', 'https://lichess.org/training/LDUrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lduSa', 'Classical', 'jeeeesus', 1838, 'Mohammed_gdeeri', 1754, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Nf3,a6,Bxc6,Bxc6,Be3,Ne7,O-O,Nf5,dxc5,Nxe3,fxe3,Bxc5,Re1,O-O,Nd4,Qg5,Qe2,Qxe5,Nd2,Bd6,N2f3,Qh5,Nxc6,bxc6,e4,Rfe8,Rad1,f5,e5,Bc5+,Kh1,h6,b4,Bb6,c4,Kf7,h4,Qg4,c5,Bc7,Rd4,Qg3,Rd3,Qg4,Rd4,Qh5,g4,fxg4,Rxg4,g5,Nxg5+,hxg5', 'Rf4+,Ke7,Qxh5', 'https://lichess.org/training/lduSa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ldv97', 'Classical', 'Erdinho1992', 2140, 'FM Parogu', 2151, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,h6,Nd5,Nxd5,exd5,a6,dxc6,axb5,cxb7,Bxb7,Be3,Bc6,c3,Qc7,Qb3,Qb7,Be2,Bxg2,Rg1,Bc6,O-O-O,g6,f4,Bg7,f5,g5,h4,d5,hxg5,hxg5,Bxg5,f6,Be3,O-O-O,Rg6,Rd7,Rdg1,Rhd8,Bh6,Bxh6+,Rxh6,d4,cxd4,exd4,Rxf6,d3,Bd1,d2+,Kb1,Be4+,Ka1,Qc7,Qc3,b4,Qxc7+,Rxc7,b3,Rc1+,Kb2', 'Rb1#', 'https://lichess.org/training/Ldv97');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lDvJZ', 'Rapid', 'Per_se', 1680, 'drazzo', 1761, 'e4,c5,e5,e6,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,Nc3,d6,exd6,Bxd6,Ne4,Be7,d3,Nf6,Ne5,Nxe4,Nxc6,Nxf2,Qf3,Qd5,Qxd5,exd5,Kxf2,Bb7,Nxe7,Kxe7,Re1+,Kd7,c4,d4,Bd2,Rhe8,b4,Rac8,bxc5,Rxc5,Rxe8,Kxe8,Re1+,Kd7,Bb4,Rf5+,Kg1,Rg5,Re7+,Kc8,g3,f6,a4,h5,Re8+,Kd7,Rh8,Bf3,Bd2,Rg6,Kf2,Bb7,Rxh5,Bc6,a5,Ba4,Kf3', 'Bd1+,Ke4,Bxh5', 'https://lichess.org/training/lDvJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDX5V', 'Blitz', 'altimateChess', 1825, 'MAXE159', 1853, 'e4,c5,Bc4,d6,d3,e6,Nc3,Nf6,a3,Be7,Nf3,O-O,O-O,Nc6,Re1,e5,Bg5,Bg4,h3,Be6,Nd5,Bxd5,exd5,Nb8,c3,a6,Qa4,Nbd7,Ba2,b5,Qh4,Nb6,c4,bxc4,dxc4,Nc8,Bb1,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/LDX5V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDxgx', 'Rapid', 'elow', 1727, 'MoroccanBlitz', 1749, 'e4,e5,Bc4,d6,d4,exd4,Qxd4,Nf6,Nf3,Be7,O-O,O-O,e5,Nc6,Qf4,dxe5,Nxe5,Nxe5,Qxe5,Bd6,Qg5,Bxh2+,Kxh2,Qd4,Bd3,h6,Qe3', 'Ng4+,Kg1,Nxe3', 'https://lichess.org/training/LDxgx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LDy7u', 'Classical', 'john_knight', 1685, 'ancodej', 1760, 'd3,d5,Nc3,e5,d4,exd4,Qxd4,Nf6,Bg5,Nc6,Bxf6,Qxf6,Qxf6,gxf6,Nxd5,Bd6,Nxf6+,Ke7,Nd5+,Kd7,O-O-O,b6,Nf3,Bb7,Nd4,Nxd4,Rxd4,Rad8,Ne3,Kc8,Rd1,Rhg8,Kb1,Rde8,Nd5,Rg5,Nf6,Re6,Nxh7,Ra5,e3,Be4,Bd3,a6,b4,Ra4,Bxe4,Rxb4+,Kc1,Rexe4,Ng5,Re7,Rd4', 'Rxd4,exd4,Bf4+,Kd1,Bxg5', 'https://lichess.org/training/LDy7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lDZr1', 'Rapid', 'Talep', 1712, 'ut21', 1628, 'd4,d5,c4,dxc4,e3,e5,Nf3,exd4,Nxd4,Be6,Qa4+,c6,Nxe6,fxe6,Qxc4,Qd5,Qxd5,exd5,Bd3,Bb4+,Bd2,Bxd2+,Nxd2,Nf6,O-O,O-O,f4,Nbd7,Rf3,Nc5,Bc2,Rae8,Rh3,b5,Re1,Na4,b3,Nc3,a3,Nce4,Nxe4,Nxe4,a4,bxa4,bxa4,Nc3,Bxh7+,Kf7,Rg3,Re6,f5,Re4,f6,Rh4,Rxg7+,Kxf6,Rxa7,Rh8,Bc2,Rxh2,Kf2,Rf8,a5,Ke5+,Kg1,Rfh8,a6', 'Rh1+,Kf2,Rf8+', 'https://lichess.org/training/lDZr1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('le0Jv', 'Rapid', 'mhamadfaeel87', 1968, 'magnus4747', 1945, 'e4,g6,d4,Bg7,c4,d6,Nc3,Nc6,Nf3,Bg4,Be3,e5,dxe5,Nxe5,Be2,Bxf3,Bxf3,Nxc4', 'Qa4+,c6,Qxc4', 'https://lichess.org/training/le0Jv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('le13l', 'Rapid', 'tondadaniel', 1861, 'Dajrokan', 2149, 'e4,c5,Nf3,Nc6,Nc3,g6,a3,Bg7,b3,d6,Bb2,Bg4,Be2,Nf6,d3,Qa5,b4,cxb4,axb4,Qxb4,Rb1,Qa5,O-O,O-O,h3,Bxf3,Bxf3,Nd4,Ra1,Nxf3+,Qxf3,Qd8,Rfb1,a6,Nd5,Nxd5,exd5,b5,Bxg7,Kxg7,Rb4,Qc7,Rc1,Qc5,Rh4,b4,Qf4,Qxd5,Qh6+,Kf6,Qf4+,Qf5,Qxb4,Qg5,Rf1,Kg7,Rg4,Qf6,Rf4,Qe6,Qd2,Rfb8,Rh4,h5,Re4,Qd7,Qg5,f6,Qe3,Re8,Re1,e5,d4,d5,Rh4,exd4,Qd2,Rxe1+,Qxe1,a5,Rxd4,a4,Qa1,a3,c4,Qb7,Rxd5,a2,Kh2,Qb1,Rd7+,Kh6,Qxf6,Qf5,Qg7+,Kg5,Rd5', 'Qxd5,cxd5,a1=Q', 'https://lichess.org/training/le13l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Le2kL', 'Blitz', 'thiagosc00', 1625, 'Skualoner', 1567, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Be3,a6,Be2,e6,Nc3,Nf6,f3,Be7,Qd2,O-O,O-O-O,b5,g4,Nxd4,Bxd4,Qc7,h4,Bb7,g5,Nh5,f4,g6,Bxh5,gxh5,f5,b4,Ne2,Bxe4,fxe6,Bxh1,exf7+,Rxf7,Rxh1,Rb8,Nf4,b3,c3,bxa2,Kc2,Qc6,Nxh5,Qxh1,Nf6+,Rxf6,gxf6,a1=Q,Qg5+,Kf8', 'Qg7+,Ke8,Qxe7#', 'https://lichess.org/training/Le2kL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lE81q', 'Blitz', 'Volodymyr007', 1878, 'GRUSHEV', 1850, 'e4,c6,f4,d5,exd5,cxd5,d4,Nc6,c3,Bf5,Bd3,Bxd3,Qxd3,Qb6,Nf3,Nf6,Nbd2,e6,O-O,Bd6,Nb3,Ne4,Kh1,Na5,Nbd2,Nxd2,Qxd2,Nc4,Qe2,O-O,Ne5,Bxe5,fxe5,Rac8,Qg4,g6,Bh6,Rfd8,Rf2,Rd7,Bg5,Nxe5,Qh4,Nc4,Bf6,Nd6,Rf3,Ne8', 'Qxh7+,Kxh7,Rh3+,Kg8,Rh8#', 'https://lichess.org/training/lE81q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LEA6P', 'Rapid', 'Dragonian3010', 1966, 'pixetus', 1993, 'c4,e5,g3,d5,cxd5,Qxd5,Nf3,e4,Nc3,Qc6,Nd4,Qd7,e3,Nf6,Bg2,b6,Nxe4,Nxe4,Bxe4,c6,Qf3,Bb7,b3,Bc5,Bb2,Bxd4,Bxd4,O-O,O-O-O,Na6,Kb2,Nb4,Rc1,Rab8,a3,c5,Bxg7,Nd3+,Kb1,Nxc1,Bxf8,Bxe4+,Qxe4,Nxb3,Kc2,c4,Bh6,Qxd2+,Kb1,Qd3+,Qxd3,cxd3,Rd1,Nc5,Bf4,Rc8,Kb2,f6,f3,Kf7,e4,Ke6,Be3,f5,Bxc5,Rxc5,Rxd3,fxe4,fxe4,Re5,Re3,Rc5,h3,Ke5,Kb3,a5,a4,Rc1,Kb2,Rc4,Rb3,Rxa4,Rxb6,Rxe4,Rb5+,Kd4,Rxa5,Re2+,Kc1,Rh2,h4,Kc3,Ra7', 'Rh1#', 'https://lichess.org/training/LEA6P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lEafs', 'Rapid', 'Axmedovichkuyada', 1917, 'davoglio007', 1853, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e4,dxe4,Bxf6,Bxf6,f3,Qxd4,Qxd4,Bxd4,fxe4,Bxc3+,bxc3,O-O,Nf3,Nc6,Bd3,b6,Ke2,Bb7,Rhe1,Rfd8,Rad1,Rd7,Bc2,Rad8,Rxd7,Rxd7,Ba4,Rd8,Bxc6,Bxc6,Ke3,f6,Nd4,Bd7,Rd1,Kf7', 'Nc6,Ke8,Nxd8', 'https://lichess.org/training/lEafs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('leajJ', 'Rapid', 'Mazhitel_shek', 2298, 'shotachkonia', 2290, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,gxf6,h3,Bf5,Nf3,e6,Bd3,Bg6,Qe2,Be7,Bd2,Nd7,O-O-O,Nb6,Kb1,Bxd3,Qxd3,Nd5,h4,Qb6,h5,O-O-O,g3,Bb4,Qc4,Bxd2,Nxd2,a6,Ne4,Qb5,Qc5,f5,Qxb5,axb5,Ng5,Rd7,h6,f4,g4,Kd8,c3,Ke7,Rde1,b4,c4,Nf6,Nf3,Nxg4,Rh4,Nxf2,Kc2,f5,Rxf4,Ne4,Kd3,Rg8,Ne5,Rg3+,Re3,Rxe3+,Kxe3,Rd8,c5,Rg8,Nc4,Rg3+,Ke2,Rh3,Nd6,Rxh6,Nxb7,Rh2+,Kd3,Rxb2,Na5,Rxa2,Nxc6+,Kf6,Nxb4,Ra3+,Kc4,Rc3+,Kb5,h5,d5,e5,Rf1,h4,d6,Nxd6+', 'cxd6,Ke6,Rd1', 'https://lichess.org/training/leajJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lecwb', 'Classical', 'Ikepilgrim', 1761, 'unaltra', 1652, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d3,Bc5,Be3,Bxe3,fxe3,d6,h3,a6,a3,Na5,Ba2,Qe7,c4,Be6,Nc3,Nh7,Nd5,Bxd5,cxd5,b5,b4,Nb7,Qc2,h5,d4,f6,Qc6+,Qd7,Qxb7,O-O,Qc6,Qxc6,dxc6+,Kh8,dxe5,dxe5,Nd2,Rad8,Nb3,Ng5,Nc5,Rd6,Nxa6,Rxc6,Rac1,Rxa6,Rxc7,Rxa3,Bd5,Rxe3,Rb7,Nxe4,Rxb5,Nc3,Rc5,Nxd5,Rxd5,Rb8,Rb1,Re4,b5,Rd4,Rc5,Rd7,b6,Rdb7,Rc6,Kh7,Kf2,Kh6,Kf3,Kg5,Ke4,Kh4,Kf3,Kg5,Ke4,Kh4,Kf3,Kg5,Rb4,Kf5,h4,g5,hxg5,fxg5,g3,g4+,Kf2,Rh7,Kg2,h4,gxh4,Rxh4,b7,Rh7,Rcb6,Re7,Kg3,Rf7,Kg2,e4,Kg3,e3', 'Rf4+,Ke5,Rxf7', 'https://lichess.org/training/lecwb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('leDGW', 'Blitz', 'garydrive', 2059, 'gibas58', 2058, 'd4,Nf6,Nf3,e6,e3,d5,b3,c5,Bb2,Nc6,Bd3,Be7,a3,a6,Nbd2,b5,O-O,c4,Be2,a5,Ne5,Nxe5,dxe5,Nd7,f4,Bc5,Bd4,Be7,Rf3,Ba6,Rh3,Nc5,bxc4,bxc4,Qe1,Rb8,Rb1,Rxb1,Qxb1,c3,Bxa6,cxd2,Bb5+,Kf8,Qd1,Ne4,Bd3,Bxa3,Bxe4,dxe4,Qxd2,Qd5,Qc3,Bb4,Qc8+,Ke7,Qxh8,Qa2,Qxg7', 'Qb1+,Kf2,Qe1#', 'https://lichess.org/training/leDGW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('leedo', 'Classical', 'Avinash1234', 1868, 'satish71', 1828, 'e4,e5,Bc4,Nf6,d4,Nxe4,Nf3,Be7,O-O,O-O,Nxe5,d5,Bb3,c6,Nd2,Nxd2,Bxd2,Bd6,f4,f6,Ng4,Qd7,f5,Qc7,h3,Nd7,c3,Nb6,Bc2,Nc4,Bc1,b5,b3,Nb6,Qf3,Ba6,Bd3,c5,Be3,Rae8,Rac1,c4,Be2,Bb7,h4,Re4,h5,Rfe8,h6,Rxg4,Qxg4,Rxe3,Bf3,Re7,Rce1,Rf7,Re2,Bc6,Qh3,Rf8,g3,a5,Qg4,cxb3,axb3,Rf7,Rfe1,Bf8,Re6,a4,bxa4,Nxa4,Qh4,Nxc3,Bh5,Re7,Rxe7,Bxe7,hxg7,Bd6,Qxf6,Ne4,Rxe4,dxe4,Qe6+,Kxg7,d5,Bb7,f6+,Kf8', 'Qe8#', 'https://lichess.org/training/leedo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('leEdZ', 'Classical', 'Salty_Fat_Slob', 1832, 'efordesancez', 1763, 'd4,d5,Bf4,Nf6,h3,g6,e3,Bg7,c3,O-O,Nf3,Nc6,Bd3,a6,O-O,b5,a3,Bb7,Re1,Re8,Nbd2,Qd7,e4,dxe4,Nxe4,e6,Nxf6+,Bxf6,Ne5,Nxe5,Bxe5,Bg7,Bxg7,Kxg7,Be4,Bd5,Bxd5,exd5,Qd2,Rxe1+,Rxe1,Re8,Rxe8,Qxe8,Qe3,Qxe3,fxe3,Kf6,g4,Ke6,Kg2,f5,Kf3,fxg4+,hxg4,Kf6,e4,dxe4+,Kxe4,Kg5,Kf3,c6,b3,h5,gxh5,Kxh5,c4,bxc4,bxc4,Kg5,a4,Kf5,Ke3,g5,a5,g4,d5,c5,d6', 'Ke6,d7,Kxd7', 'https://lichess.org/training/leEdZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LeEjW', 'Rapid', 'reachy', 1671, 'algul_siento', 1679, 'd4,d5,Nf3,e6,Nc3,c5,e4,cxd4,Nxd4,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Be3,Bd7,Qd3,Nc6,Nb5,Rc8,O-O-O,Qe7,Qc3,a6,Nd4,Nb4,Bc4,b5,a3,Nd5,Qe1,bxc4,Nf5,Qf6,Rxd5,exd5,Bd4+,Qe6,Nxg7+,Bxg7,Bxg7,Rg8,Qc3,Qg6,Re1+,Be6,Be5,Qxg2,Qe3,Qg5,Bf4,Qf5,Bg3,Rg4,f3,Rg8,Kb1,Qf6,c3,Qe7,Ka1,Qb7,Qd4,Kd7,Rd1,Rge8,Qh4,Bf5,Qf4,Bg6,Qg4+,f5,Qd4,Qc6,Qa7+,Ke6', 'Re1+,Kf6,Bh4#', 'https://lichess.org/training/LeEjW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('legBx', 'Rapid', 'Renewer2', 1942, 'capricornwon', 1734, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,O-O,O-O,Re8,a3,c6,b4,Bb6,Na4,d5,exd5,cxd5,Bb5,Nc6,Bb2,Bg4,h3,Bh5,Be2,e4,Nh2,Bxe2,Qxe2,e3,dxe3,d4,Nxb6,Qxb6,b5,dxe3,bxc6,exf2+,Qxf2,Qxb2,Rfb1,Qe5,cxb7,Rab8,Re1,Ne4,Qxa7,Rxb7,Qe3,f5,Nf3,Qa5,Ng5,Rbe7,Qb3+,Kh8,Nf7+,Rxf7,Qxf7,Qc5+,Kh2,Qd6+,Kg1,Qc5+,Kh1,Nf2+,Kh2,Qd6+,g3,Rf8,Re8,Ng4+,hxg4,Qd2+,Kh3,Qh6+,Kg2,Qc6+,Kf2,Rxe8,Qxf5,Kg8,Qd3', 'Qf6+,Kg2,Qxa1', 'https://lichess.org/training/legBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lEHhR', 'Rapid', 'Dmmanzharov', 1795, 'vasiliy15', 1785, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,d4,b5,Bb3,Bg4,dxe5,Nxe5,Nbd2,Qf6,Bd5,c6,Bb3,O-O-O,h3,Bxf3,Nxf3,Nxf3+,gxf3,Ne7,c3,Ng6,a4,b4,cxb4,Nf4,Qc2,d5,Bxf4,Bxb4+,Bd2,Bxd2+,Kxd2,dxe4+,Ke1,exf3,Rc1,Rhe8+,Kf1,Rd6,Qc4,Kb7,Qxf7+,Qxf7,Bxf7,Re2,Re1,Rdd2,Rxe2', 'fxe2+,Ke1,Rd1+,Kxe2,Rxh1', 'https://lichess.org/training/lEHhR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LeHtp', 'Blitz', 'bushlatov', 1848, 'Yarha', 1782, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Bd3,Bg4,h3,Bh5,Be3,e6,c3,Bd6,Qc2,h6,g4,Nxg4,hxg4,Bxg4,Ne5,Bxe5,dxe5,Bf3,Rg1,g5,Rg3,Bh5,Kd2,Qc7,f4,gxf4,Bxf4,O-O-O,Rd1,Bg6,Kc1,Rhg8,Bxg6,fxg6,Bxh6,Qxe5,Rxd8+,Rxd8,Qxg6', 'Qe1+,Kc2,Qd1#', 'https://lichess.org/training/LeHtp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lehY2', 'Classical', 'Simuncro1', 1690, 'michael-palmese', 1680, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,Qxd4,Be3,Qd8,Bd3,Nc6,O-O-O,e6,Bb5,Bd7,Bxc6,bxc6,Bg5,Be7,Bxf6,Bxf6,Qd3,Bxc3,bxc3,Qe7,c4,Rd8,Qg3,O-O,Nf3,h6,Ne5,a5,Rd3,f6', 'Ng6,Qf7,Nxf8', 'https://lichess.org/training/lehY2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LEiiJ', 'Blitz', 'WFM Jojo08', 2142, 'Komardin_Alexandr', 2145, 'd4,c6,c4,d5,Nc3,Nf6,cxd5,cxd5,Nf3,e6,Bg5,Be7,e3,O-O,Bd3,a6,O-O,h6,Bh4,Nc6,Bc2,b5,a3,Bb7,Qd3,g6,Ne5,Rc8,f4,Nxe5,fxe5,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Qe2,Rc7,Rad1,Rfc8,Bb1,Bd5,Qg4,Kg7,Bxe4,Bxe4,Qxe4,Rc2,Rf3,Rxb2,Rdf1,Rcc2,Rg3,g5,h4,Re2,Rf6,Kf8,hxg5,hxg5,Qh7,Ke8,Qg8+,Qf8,Qxg5,Qh8,Rh3,Qf8,Rg3,Qh8,Rh6,Qf8,Qf6,Kd7,Rh7,Kc6,Rxf7,Qc8,Re7,Kd5,e4+,Kxd4,Rxe6,Qc1+,Kh2,Qe1,Rc6,Qxg3+,Kxg3,Rxg2+,Kf4', 'Rbf2#', 'https://lichess.org/training/LEiiJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('leJsQ', 'Rapid', 'Aleksejsichkov', 1627, 'BenediktCervantes', 1603, 'e4,c5,c3,Nc6,d4,e6,d5,Ne5,dxe6,fxe6,Nf3,Qf6,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/leJsQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LEJua', 'Rapid', 'berkbelen', 1645, 'Hargo04', 1665, 'Nf3,Nf6,Nc3,Nc6,d4,d5,Bf4,a6,e3,e6,Bd3,g6,Bg5,Bg7,e4,dxe4,Bxe4,O-O,h4,Qd7,Bxc6,bxc6,Ne5,Qd6,Bxf6,Bxf6,Ne4,Qb4+,c3,Qxb2,Nxf6+,Kh8,Ne4,f5,Qf3,Bb7,Nc4,fxe4', 'Qxf8+,Rxf8,Nxb2', 'https://lichess.org/training/LEJua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LeKV3', 'Rapid', 'carlosbethoven', 2017, 'breno1991', 2030, 'e4,c5,Nf3,Nc6,c3,Nf6,Qc2,e6,d4,cxd4,cxd4,Nb4,Qb3,Nxe4,a3,Nd5,Bd3,Qa5+,Nbd2,Nef6,O-O,Be7,Nc4,Qc7,Bg5,O-O,Rac1,Qd8,Rfe1,a6,Bb1,b5,Nce5,Bb7,h4,h6,Qd3,Rc8,Bxf6,Nxf6,Ng5,Rxc1,Rxc1,hxg5,hxg5,Be4,Qh3,Bxb1,Rxb1,Nd5,g6,fxg6,Nxg6,Rf6', 'Qh8+,Kf7,Ne5#', 'https://lichess.org/training/LeKV3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LemGE', 'Classical', 'RuTema', 1757, 'pbrane', 1745, 'e4,b6,d4,e6,Nf3,Bb7,Bd3,Nf6,Bg5,h6,Bxf6,Qxf6,Nc3,Bb4,Qd2,Nc6,a3,Bxc3,Qxc3,O-O,e5,Qe7,Be4,Na5,Bxb7,Nxb7,Qxc7,Rab8,Qc3,Rfc8,Qd3,d6,O-O,dxe5,Nxe5,f6,Ng6,Qc7,c3,Rd8,Qe3,Qf7,Nf4,Re8,Rfe1,e5,dxe5,Rxe5,Qh3,Qe7,Rxe5,Qxe5,Qe6+,Qxe6,Nxe6,Re8,Nd4,Nc5,Kf1,Nd3,b3,Nc5,b4,Na4,c4,Nb2,c5,bxc5,bxc5,Rd8,Nb5,Rd5,Rc1,Na4,c6,Rxb5,c7,Nb6,c8=Q+,Nxc8,Rxc8+,Kh7,Rc3,a5,Rc4,Re5,Ra4,g5,f3,h5,h3,h4,Kf2,Kg6,Re4,Kf5,Rxe5+,Kxe5,Ke3,f5,a4', 'f4+,Ke2,Kd4', 'https://lichess.org/training/LemGE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LEmPb', 'Rapid', 'delta_gate', 1828, 'megacomodin', 1765, 'd4,d5,b3,Nf6,e3,e6,Bd3,Be7,Bb2,O-O,Nd2,b6,Qe2,Bb7,f4,Nbd7,Ngf3,c5,Ne5,Qc7,O-O,a5,a4,cxd4,exd4,Rac8,Rf3,Nb8,Rh3,Nc6', 'Bxh7+,Nxh7,Qh5', 'https://lichess.org/training/LEmPb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lemUT', 'Blitz', 's_4_samyak', 1543, 'HAY2010MKbl5ANElmali', 1637, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bg5,c6,Nf3,Bd6,Be2,Bg4,O-O,Nbd7,h3,Bxf3,Bxf3,O-O,Re1,Qc7,Rc1,Rae8,Ne2,h6,Bh4,Bf4,Nxf4,Rxe1+,Qxe1,Qxf4,Bg3,Qf5,c3,Re8,Qd2,Qe6,Kf1,Ne4,Bxe4,Qxe4,Re1,Qxe1+,Qxe1,Rxe1+,Kxe1,Nf6,Be5,Kf8,Bxf6,gxf6,Ke2,Ke7,Kf3,Ke6,Kf4,f5,g4,fxg4,hxg4,Kf6,f3,Ke6,b4,b5,a3,a6,Kg3,f5,Kh4,Kf6,Kh5,fxg4,fxg4,Kg7,g5,hxg5,Kxg5,Kf7,Kf5,Ke7,Ke5,Kd7,Kf6,Kd6,Kf7,Kd7,Kf6,Kd6,Kf7,Kd7,Kf8,Kd8,Kf7,Kd7,Kg6,Ke6,Kg7', 'Kf5,Kf8,Ke4,Ke8,Kd3', 'https://lichess.org/training/lemUT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lEmwb', 'Rapid', 'Almaz_111', 1843, 'bunyod93', 1833, 'e4,c5,Nf3,d6,h3,Nf6,Nc3,Nc6,a3,e5,Bc4,Nxe4,Nxe4,d5,Nxc5,Bxc5,Ba2,e4,Nh2,Qg5,g3,Bxh3,d3,e3,Bxe3,Bxe3,Nf3,Qf5,fxe3,O-O-O,Qe2,Ne5', 'Nxe5,Qxe5,Rxh3', 'https://lichess.org/training/lEmwb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lEmXv', 'Rapid', 'Caissandro', 1770, 'Mohamed_011', 1787, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,h6,Bh4,Be7,Qc2,Nbd7,e3,a6,a4,O-O,cxd5,cxd5,Bd3,b6,O-O,Bb7,Rac1,Rc8,Ne5,Ne4,Bxe7,Qxe7,Bxe4,Nxe5,dxe5,dxe4,Qb3,Qc5,Ne2,Qxe5,Qxb6,Rb8,Rc5,Bd5,Qc7,Qxb2,Nc3,Qb7,Rc1,Qxc7,Rxc7,Rfc8', 'Nxd5,Rxc7,Nxc7', 'https://lichess.org/training/lEmXv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LepJI', 'Blitz', 'FM VinzentSpitzl', 2402, 'reza-yarifard62', 2328, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,Qe2,e6,O-O-O,Qc7,f4,Be7,g4,h6,Bh4,Nxe4,Nxe4,Bxh4,Nf5,exf5', 'Nxd6+,Kd8,Nxf7#', 'https://lichess.org/training/LepJI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LEpPr', 'Rapid', 'Manuel5826', 1766, 'Syl2007', 1810, 'd4,d5,Bf4,Nc6,e3,Bf5,Nf3,e6,c4,Nb4,Na3,Nf6,Qa4+,Nc6,cxd5,Nxd5,Bb5,Bxa3,Bxc6+,bxc6,Qxc6+,Ke7,bxa3,Rb8,O-O,Rb2,Qc5+,Ke8,Ne5,f6,Nc6,Qd7,Nb4,Be4,Nxd5,Bxd5,Rac1,c6,f3,g5,Bg3,h5,e4,h4,Bf2,Bxa2,Qxc6,Qxc6,Rxc6,Kd7,Ra6,Rb7,d5,Bc4,dxe6+,Ke7,Rc6,Bxf1,Kxf1,Rd8,Ra6,Rd2,Ke1,Ra2,Bc5+,Ke8,Bb4,Rxg2,e7,Rxb4,axb4,Rxh2,Rxa7,Rb2,Rb7', 'h3,Rb8+,Kxe7,Rh8,h2', 'https://lichess.org/training/LEpPr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LepUr', 'Rapid', 'Ghostrider20', 1789, 'mishany10', 1690, 'd4,c5,e3,cxd4,exd4,d5,Bb5+,Nc6,Nf3,a6,Ba4,b5,Bb3,Bf5,O-O,a5,c3,a4,Bc2,Bg4,Bf4,Nf6,Nbd2,Nh5,Be3,e5,h3,Bxf3,Qxf3,exd4,Bxd4,Nxd4,cxd4,Nf6,Rfe1+,Be7,Bf5,O-O,Qd3,Bb4,Re2,g6,Bg4,h5,Bf3,Rb8,a3,Ba5,b4,axb3,Nxb3,b4,Nxa5,Qxa5,Rb2,bxa3,Rxb8,Rxb8,Qxa3', 'Rb1+,Rxb1,Qxa3', 'https://lichess.org/training/LepUr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LEPxG', 'Rapid', 'IgorPK', 1610, 'ghafoor_hsn', 1609, 'e4,e5,Nf3,Qf6,d4,exd4,Nxd4,Bc5,Nf3,d6,Bg5,Qg6,Bd3,Qe6,Nc3,c6,Qe2,h6,Bc4,d5,Bxd5,cxd5,Qb5+,Nc6,Qxc5,dxe4,O-O-O,hxg5,Nxg5,Qh6,Rhe1,Nge7,Rxe4,Be6,Kb1,Rd8,Rxd8+,Nxd8,Qb5+,Bd7,Qe5,Be6,Nxe6,Nxe6', 'Qb8+,Kd7,Qxb7+', 'https://lichess.org/training/LEPxG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lEq3S', 'Classical', 'TreyHardee', 1669, 'Franshtein', 1629, 'c4,Nf6,d4,d6,Nc3,g6,e4,e5,Nf3,exd4,Nxd4,Bg7,Be3,O-O,Be2,Re8,Qc2,Ng4,Bxg4,Bxg4,f3,Be6,Nxe6,Rxe6,O-O-O,Nc6,a3,a6,c5,Qf6,Nd5,Qd8,Nc3,Qf6,Nd5,Qd8,Qd2,Rc8,Kb1,dxc5,Bxc5,b6,Bf2,Rd6,Bg3,Be5,Bxe5,Nxe5,Rc1,c6,Qc3,Nd7,Nb4,Nc5,Qc4,a5,Na6,Rd4,Qe2,Rd2,Qc4,Nxa6,Qxa6,Rxg2,Rhd1,Qc7,e5,Rd8,Rxd8+,Qxd8,Qc4,Qd2,Rc2,Qd1+,Rc1,Qxf3,Qxc6,Qxc6,Rxc6,Rxh2,Rxb6,Re2,Kc1,Rxe5,a4,Re4,b3,h5,Rb5,Re3,Kc2,h4,Rxa5,h3,Rd5,f5,a5,h2,Rd1,Re2+,Kc3,Rg2,Rh1,g5,Kb4,g4,a6,g3,Kb5,Rg1', 'a7,Kh7,a8=Q', 'https://lichess.org/training/lEq3S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LEqE4', 'Rapid', 'maelic', 2060, 'Sivenkov', 2281, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,Ngf3,Nf6,c3,cxd4,Nxd4,Nc6,Bb5,Bd7,N2f3,Be7,O-O,O-O,Bg5,h6,Bh4,Rc8,Re1,Bg4,Qd3,Ne4,Bxe7,Qxe7,Nd2,Nxd4,Qxd4,Qc5,Nxe4,Qxb5,Nd6,Qxb2,Nxc8,Bxc8,Reb1,Qc2,Re1,b6,a4,Be6,a5,bxa5,Rxa5,Rc8,Rxa7,Rxc3,h3,Rd3,Qb6,Rb3,Qd8+,Kh7,Qe7,Rb2,Qh4,Qf5,Qd4,Rc2,Ra3,Rc4,Qb2,d4,Rg3,Qf4,Rf3,Qd6,Qb1+,g6,Qb7,Kg7,Qb5,Rc5,Qe8,d3,Rd1,d2,Qa4,Re5,Qa1,Kh7,Qc3,Rd5,Re3,Bf5,Re2,Rd3,Rexd2,Rxc3,Rxd6,Rc2,R6d2,Rc3,g3,Bxh3,Rd8,Be6,Rb8,Kg7,Rdd8,h5,Rg8+,Kf6,Rb6,Kg5,Rd8,Kg4,Rdb8,Kh3,Rb1,h4,gxh4,Kxh4,R8b4+,Kg5,Re1,Kf6,Re3,Rc1+,Kh2,Rc5,Kg3,Rg5+,Kf4', 'Rg4+,Kf3,Rxb4', 'https://lichess.org/training/LEqE4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LEQkT', 'Classical', 'forsubs2015', 1820, 'MR_TR', 1877, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Nf3,b6,e3,Bb7,Be2,d6,O-O,Nc6,d5,exd5,cxd5,Ne7,c4,Ba6,Bb2,Ng6,Bd3,Re8,Nd4,Ne5,Nc6,Nxc6,dxc6,Qe7,Qf3,Rad8,Bxf6,Qxf6,Qxf6,gxf6,Rac1,d5,h3,Rd6', 'c5,bxc5,Bxa6', 'https://lichess.org/training/LEQkT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('leS0b', 'Blitz', 'MagReuby', 1670, 'glebovtut', 1654, 'e4,e6,f4,d5,d3,Nf6,e5,Nfd7,d4,c5,Be3,Nc6,Nf3,cxd4,Nxd4,Nxd4,Bxd4,Bc5,Nc3,Qb6,Bxc5,Nxc5,Bb5+,Bd7,Bxd7+,Nxd7,b3,O-O,Qd3,f6,O-O-O,fxe5,fxe5,Nxe5,Nxd5,exd5,Qxd5+,Nf7,Rhf1,Qh6+,Kb1,Rad8', 'Qxf7+,Rxf7,Rxd8+,Rf8,Rfxf8#', 'https://lichess.org/training/leS0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('leS0p', 'Rapid', 'Laki2006', 1621, 'ximatzo', 1908, 'g3,e5,Bg2,Nc6,b3,Nf6,Bb2,d5,d3,Bc5,Nd2,Bg4,h3,Bh5,g4,Bg6,Ngf3,O-O,Nxe5,Nxe5,Bxe5,Re8,d4,Bd6,Nf3,Ne4,O-O,f6,Bxd6,Qxd6,c4,Nc3,Qd2,Nxe2+,Kh1,Nf4', 'c5,Qd7,Qxf4', 'https://lichess.org/training/leS0p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LEsBG', 'Blitz', 'IM TRendle', 2630, 'ameetghasi100', 2644, 'f4,g6,Nf3,Bg7,g3,d5,Bg2,Bg4,O-O,Nd7,c3,c6,d3,Bxf3,Bxf3,Ngf6,e4,dxe4,dxe4,e5,Be3,O-O,Nd2,Re8,Qb3,Qc7,Rad1,b5,f5,gxf5,Bg2,f4,gxf4,Ng4,Rde1,Nxe3,Rxe3,exf4,Ref3,Nc5,Qc2,Be5,Rh3,Re6,Nf3,Rg6,Nh4,Rg5,Kh1,Kh8,Nf5,Rag8,Bf3,Ne6,Qf2,a5', 'Rxh7+,Kxh7,Qh4+,Kg6,Qh6#', 'https://lichess.org/training/LEsBG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('leSjk', 'Rapid', 'hmnyongesa', 1611, 'Better5urrender', 1609, 'd4,e5,dxe5,Bc5,Nc3,d6,exd6,Bxd6,Nb5,Nc6,Nxd6+,cxd6,e3,Nf6,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/leSjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LESPj', 'Rapid', 'hamad_2000', 1721, 'remisimi', 1735, 'c4,f5,Nc3,e5,e4,f4,Qh5+,Ke7,Qxe5+,Kf7,c5,Qf6,Bc4+,Kg6,Nf3,Qxe5,Nxe5+,Kf6,Nd5+,Kxe5,Nxc7,Bxc5,Nxa8,Nf6,O-O,Nc6,Nc7,Re8,b4,Bb6,Bb2+,Kd6,Bxf6,Kxc7,Bxg7,d6,Rac1,Rxe4,Bd5,Rxb4,Bxc6,bxc6,d4,d5,Be5+,Kb7,Rb1,Rc4,Rfc1,Rxc1+,Rxc1,Bf5,Rc3,h5,a4,a5,Rf3,Bg4,Rxf4,Ka6,Rf8,Kb7,Rb8+,Ka7,Rc8,Bxc8,f4,Bf5,Kf2,Bc2,Kg3,Bxa4,f5,c5,f6,cxd4', 'f7,Bc5,Bxd4,Bxd4,f8=Q', 'https://lichess.org/training/LESPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lET8m', 'Rapid', 'Timbo23', 1954, 'Vibes91', 2042, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Neg5+,Kg8,d4,h6,Nh3,e4,Ne5,Kh7,Qh5,Nxe5,dxe5,Bc5', 'Ng5+,Qxg5,Bxg5', 'https://lichess.org/training/lET8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lEucK', 'Classical', 'tr78', 1896, 'natmaster22', 1897, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,h6,O-O,Nf6,Re1+,Be6,c4,O-O,b3,c5,Ba3,Qb6,dxc5,Bxc5,Bxc5,Qxc5,b4,Qxb4,cxd5,Bxd5,Nbd2,Nbd7,Rb1,Qd6,Nc4,Bxc4', 'Bh7+,Kxh7,Qxd6', 'https://lichess.org/training/lEucK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('leuDI', 'Rapid', 'Kolyha', 1724, 'Palang24', 1675, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,Be7,h4,O-O,Nf3,d5,e3,c5,Ne5,h6,Bxf6,Bxf6,Ng6,Rf7,Qf3,cxd4,exd4,Bxd4,cxd5,exd5,Qxd5', 'Bxc3+,bxc3,Qxd5', 'https://lichess.org/training/leuDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LeUWY', 'Rapid', 'mrdvorsky1', 1755, 'mohanedmosaad1', 1781, 'd4,Nf6,Bf4,d5,Nf3,Bf5,c4,e6,Qb3,b6,Ne5,a6,Qa4+,Nbd7,e3,Ng4,Nd2,Nxe5,dxe5,Be7,cxd5,exd5,Qc6,Be6,Bd3,O-O,Nf3,Nc5,Bc2,d4,Bb3,Nxb3,axb3,dxe3,Bxe3,Bb4+,Bd2,Bd5,Qc1,Bxf3,gxf3,Qd4,Bxb4,Qxb4+,Qc3,a5,Ra4,Qe7,Rc4,c5,Rg4,Rfe8,Rhg1,Qxe5+,Qxe5,Rxe5+,Kd2,Rd8+,Kc1,g6,Re4,Rde8,Rge1,f6,Kd2,Kf7,Kc3,b5,Kd3,Rd8+,Ke3,Rxe4+,fxe4,Rd4,Rc1,Rb4,Rc3,c4,bxc4,Rxc4', 'Rxc4,bxc4,Kd4', 'https://lichess.org/training/LeUWY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lEV1u', 'Rapid', 'chinmoyhere', 1713, 'nysmsrl', 1650, 'd4,d5,e3,Nf6,Nf3,c5,dxc5,Nc6,Nc3,e5,a3,Bxc5,b4,Bd6,Bb2,Be6,h3,h6,Bb5,O-O,Bxc6,bxc6,g4,Nh7,Qd2,f5,O-O-O,fxg4,hxg4,Bxg4,Rdg1,Bxf3,Rxh6,Rf6,Rh3,Qf8,Rhg3,Rf7,Rg6,Bh5,R6g3,Rxf2', 'Rxg7+,Qxg7,Rxg7+,Kxg7,Qxf2', 'https://lichess.org/training/lEV1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lEvXN', 'Blitz', 'Niper13', 2522, 'FM EddieMarsalla', 2553, 'Nf3,d5,g3,Bf5,Bg2,e6,O-O,Nd7,c4,c6,d4,Ngf6,Nbd2,Bd6,Nh4,Bg4,h3,Bh5,b3,O-O,Bb2,Re8,Qe1,Bb4,a3,Bxd2,Qxd2,Ne4,Qc2,f5,Nf3,Qb6,c5,Qc7,b4,a6,a4,Bg6,Nh4,Bf7,Nf3,Bh5,Rfe1,Bg6,Qc1,Bh5,Qf4,Qd8,h4,h6,Ne5,g5,hxg5,hxg5,Qc1,Nxe5,dxe5,Kf7,Ra3,Qe7,g4,Bg6,gxf5,exf5,f3,Ng3,Kf2,Nh5,e6+,Kxe6', 'Re3+,Kd7,Rxe7+', 'https://lichess.org/training/lEvXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LEvY3', 'Rapid', 'kailashraj', 1639, 'Gen_Italia', 1606, 'e4,c5,g3,d6,Bg2,e5,Ne2,Bg4,O-O,Nf6,d3,h6,Qe1,Be7,b3,O-O,Nbc3,Qa5,Bd2,b5,Nd5,Qd8,Ba5,Qd7,Ne3,Nc6,Bc3,b4,Bb2,Nh7,Nxg4,Qxg4,f3,Qh5,g4,Qg5,Bc1,Qg6,h4,Nd4,h5,Qe6,Nxd4,exd4,Bf4,d5,Qg3,dxe4,fxe4,Bg5,Bxg5,Nxg5,Rf5,Rac8,Raf1,Qa6,Ra1,g6,hxg6,fxg6,Rxf8+,Rxf8,Qe5,Qc8,Qg3,Re8,Rf1,Re7,Rf6,Kg7,Rf4,Nf7,Bh3,Ne5,g5,Qh8,gxh6+,Qxh6,Rf2,Qc1+,Kg2,Qe3,Qh4,Rf7,Rxf7+,Kxf7', 'Qh7+,Kf6,Qh8+', 'https://lichess.org/training/LEvY3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lEWlo', 'Blitz', 'LyricalGeppetto', 1742, 'sick_boy1211', 1673, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,Nbd7,Nf3,e5,d5,a5,a3,Nc5,Qc2,O-O,Bg5,Qd7,Bd3,c6,O-O,cxd5,exd5,Rb8,Be4,Nfxe4,Nxe4,Nxe4,Qxe4,f5,Qc2,b5,Rab1,b4,axb4,axb4,b3,e4,Nd2,Bc3,Rfd1,Qg7,Nf1,h6,Bd2,Be5,Be3,f4,Bc1,Bf5,Bb2,e3,Bxe5,Qxe5,Qe2,exf2+,Qxf2,Bxb1,Rxb1,g5,Re1,Qc3,Nh2,Qxb3,Ng4,Kg7,Re7+,Rf7,Qd4+,Kf8,Rxf7+,Kxf7,Qf6+,Ke8,Qe6+,Kd8,Qxd6+,Kc8,Qc6+,Kd8,Nf6,Qd1+,Kh2,Ke7,Qe6+,Kf8,Nd7+,Kg7,Qf6+,Kg8,Qg6+,Kh8,Qxh6+,Kg8,Nf6+,Kf7,Nd7,b3,Qf6+,Kg8,Qe6+,Kh7,Nf6+,Kh8,Qf7,Qc2,Qh5+,Kg7,Qxg5+,Kf7,Qxf4,b2,Nd7+,Ke7,Qxb8,b1=Q,Qf8+,Kxd7,d6,Qbb2', 'Qe7+,Kc6,Qc7#', 'https://lichess.org/training/lEWlo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LexgK', 'Blitz', 'silentnexus', 1672, 'Calugar25', 1682, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,Kf1,Nf6,Nc3,O-O,d4,Re8,e5,Ng4,Ne4,d5,Nxh4,dxe4,Bxf4,Qxh4,Bg3,Qxg3,hxg3,Ne3+,Ke2,Nxd1,Raxd1,Nc6,Rdf1,Bg4+,Kd2,Rad8,Bxf7+,Kh8', 'Rxh7+,Kxh7,Rh1+,Bh5,Rxh5#', 'https://lichess.org/training/LexgK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LexlR', 'Rapid', 'geofiz28', 1850, 'Sigognac', 1813, 'd4,d5,e3,e6,Nf3,Nf6,Nbd2,Be7,a3,O-O,b3,b6,Bb2,Bb7,Be2,c5,dxc5,bxc5,O-O,a5,a4,Nc6,Bb5,Qc7,g3,Bd6,Kg2,e5,Kg1,e4,Ne1,Be5,Bxe5,Qxe5,Ng2,Ne7,Qe2,Bc8,Nf4,Ng6,Nxg6,fxg6,Rfe1,Bg4,Qf1,Rac8,h3,Bd7,c4,Qc3,Rad1,dxc4,Bxc4+,Kh8,Nxe4,Bxh3,Qxh3,Nxe4,Rf1,Qc2', 'Bd3,Qxb3,Bxe4', 'https://lichess.org/training/LexlR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lexQH', 'Rapid', 'An0man', 1622, 'ahmed_elbaz', 1612, 'b3,g6,Bb2,Nf6,e3,Bg7,Nf3,O-O,c4,b6,Bd3,Bb7,h4,e5,Bxe5,d6,Bc3,Nbd7,h5,Nxh5,Rxh5,gxh5,Nd4,Qh4,Qe2,Qh1+,Qf1,Bxg2,Qxh1,Bxh1,Nf5,Bxc3,Nxc3,Ne5,O-O-O,Nxd3+,Kc2,Nb4+,Kb2,Be4,Nxe4,Nd3+,Kc3,Ne5,Nf6+,Kh8,Rh1,Rg8,Rxh5,Rg7,Nxg7,Kxg7,Nd5,c6,Nb4,c5,Nd5,Kg6,Rh2,h5,f4,Ng4,Rg2,Kf5,a4,Rh8,d4,Ke4,dxc5,dxc5,Rg3,f5,Rh3,Nxe3', 'Rxe3#', 'https://lichess.org/training/lexQH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lExrK', 'Blitz', 'Prepusio', 1928, 'MoreMate', 1930, 'd4,Nc6,Bf4,d5,e3,Bf5,Nf3,a6,c3,e6,Nbd2,Bd6,Bg3,Nf6,Be2,O-O,Ne5,Bg6,f4,Bxe5,fxe5,Ne4,Nxe4,Bxe4,O-O,Qg5,Rf4,Ne7,Qd2,Nf5,Bg4,h5,Bxf5,Bxf5,Bh4,Qg6,Be7,Rfe8,Ba3,b6,Raf1,Rac8,R1f3,c5,Rg3,Qh7,Rg5,g6,Qf2,f6,exf6,Qf7,Rfxf5,exf5,Qxf5,Kh7,Rxh5+,Kg8,Rg5,Rxe3,Rxg6+,Kf8,Rg7,Qe8,Qh7', 'Re1+,Kf2,Qe3#', 'https://lichess.org/training/lExrK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Leyfq', 'Classical', 'Murali_kris', 1616, 'Pete89', 1658, 'e4,c5,Bc4,e6,c3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Ngf6,O-O,Be7,d3,O-O,Re1,Re8,Bg5,h6,Bd2,Bd6,h3,Bc7,Qc1,b5,Bxh6,gxh6,Qxh6,Nh7,Nbd2,Qf6,Qh5,Ne5,Nh4,Nxd3,Rf1,Qf4,Ndf3,Ne5,g3,Nxf3+,Nxf3,Qf6,Nh4,Re5,Qg4+,Rg5,Qd7,Bd6,Rae1,Nf8,Qxb5,Ne6,Re3,Rb8,Qc6,Rb6,Qe8+,Kg7,Rf3,Qe7,Qa4,Rxb2,Rf5,Rb6,Qc2,Nf4,Qd2,Ne2+,Kg2,f6', 'Rxg5+,fxg5,Nf5+,Kh7,Nxe7', 'https://lichess.org/training/Leyfq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lEYVF', 'Blitz', 'Gellert1994', 2091, 'GM AdriD', 2200, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nc6,Nf3,Bf5,Be2,cxd4,cxd4,Bxb1,Rxb1,e6,a3,Nf6,O-O,Bd6,Be3,O-O,b4,Rfd8,Rc1,Ne7,Bc4,Qh5,Qb3,Ng4,h3,Nxe3,fxe3,Nf5,e4,Ng3,Rfe1,Bf4,Rcd1,Rac8,d5,e5,d6,Qg6,Bd5,Kf8,Bxb7,Rb8,Qd5,Qf6,d7', 'Qb6+,Qc5+,Qxc5+,bxc5,Rxb7', 'https://lichess.org/training/lEYVF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lEzxh', 'Rapid', 'lukmancatur54', 1665, 'jose333', 1634, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Bd3,Bg6,Nf3,c5,O-O,Nc6,Bb5,Qb6,Bxc6+,Qxc6,Be3,b5,a3,a5,b3,b4,Na4,c4,axb4,Bxb4,c3,Be7,bxc4,dxc4,Rb1,Bxb1,Qxb1,Qxa4,Qb7,Rd8,Bg5,Qd7,Qe4,h6,Bxe7,Nxe7,Rb1,Nf5,g4,Ne7,Rb7,Qc6', 'Rxe7+,Kxe7,Qxc6', 'https://lichess.org/training/lEzxh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lF0oi', 'Rapid', 'aboodchei', 1619, 'MoBrando', 1612, 'e4,Nc6,Nc3,f5,exf5,Nf6,Nf3,d5,g3,Bxf5,Bg2,e5,O-O,Bc5,Re1,e4,Ng5,Bg4,Bf3,Bxf3,Qxf3,Qe7,Qf5,O-O,Nxd5,Bxf2+,Kg2,Qe5,Qxe5,Nxe5,Kxf2,Nxd5+,Kg2,Rf5,Nxe4,Raf8,d3,Nf3,Rf1', 'Nh4+,gxh4,Rxf1', 'https://lichess.org/training/lF0oi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lf1ZE', 'Rapid', 'blad-x', 2206, 'babacahit', 1858, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Ng8,Nf3,d5,d4,g5,g3,g4,Nh4,f3,Be3,Nh6,h3,Nf5,Nxf5,Bxf5,hxg4,Bxg4,Qd2,Nd7,Bd3,Nb6,Rxh7,Rxh7,Bxh7,Nc4,Qc1,Bb4,Kf2,Nxe3,Qxe3,Qd7,Rh1,O-O-O,Nb1,Rh8,c3,Rf8,cxb4,f5,Qf4,Qb5,Nc3,Qxb4,Rb1,Qc4,e6,Qd3,Rc1,Rh8,Nxd5', 'Qe2+,Kg1,Qg2#', 'https://lichess.org/training/lf1ZE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lF27n', 'Rapid', 'vazchand', 1755, 'thekun', 1634, 'c4,e6,Nc3,d5,cxd5,exd5,Nf3,Nf6,g3,Nc6,Bg2,Bb4,O-O,O-O,a3,Ba5,b4,Bb6,Bb2,h6,Na4,Bg4,Nxb6,axb6,d3,Re8,Re1,d4,Qb3,Be6,Qc2,Qd6,Rac1,Red8,Qd2,Ne7,e4,dxe3,Rxe3,c5,Bxf6,gxf6,bxc5,bxc5,Rd1,Rxa3,d4,cxd4,Rxa3,Qxa3,Qxh6,d3,Qxf6,Kf8,Qh8+,Ng8,Ng5,Bf5,Qe5,Bg6,Be4,Bxe4,Qxe4,d2,Qf4,Rd7,Qb8+,Kg7,Qe5+,Kf8,Qb8+,Kg7,Qe5+,Nf6,Ne4,Qc1,Qxf6+,Kf8,Qh6+,Ke8,Nf6+,Kd8,Qf8+,Kc7,Rxc1+', 'dxc1=Q+,Kg2,Qc6+', 'https://lichess.org/training/lF27n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lf3UT', 'Rapid', 'Barbossa_7', 1875, 'Trienchosaurios', 1692, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,d5,c6,O-O,cxd5,cxd5,Nbd7,Bg5,h6,Be3,Ng4,Bd2,Nc5,h3,Nf6,Qc2,a6,b4,Ncd7,Qc1,Kh7,Nh2,b5,f4,Qc7,f5,g5,Ng4,Nxg4,Bxg4,Nf6,Qd1,Qc4,a3,Nxe4,Nxe4,Qxe4,f6,Bxg4,Qxg4,Qxg4,hxg4,Bh8,Rac1,Rac8,Be3,Kg6,Bb6,Bxf6,Rc6,Rxc6,dxc6,Rc8,c7,d5,Kf2,Be7,Ke3,f6,Rd1,d4+,Ke4,Bd6,Rc1,Kf7,Rc6,Ke6', 'Bc5,Rxc7,Rxd6+', 'https://lichess.org/training/Lf3UT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LF459', 'Rapid', 'MFerdo', 1902, 'Sohrab1333', 1886, 'd4,e6,c4,Nf6,Nc3,Be7,e4,Bb4,Bd2,Bxc3,Bxc3,Nxe4,Qg4,Nxc3,Qxg7,Rf8,bxc3,Nc6,Bd3,b6,Qxh7,Bb7,Be4,Qg5,g3,O-O-O,Nf3,Qa5,Kd2,d5,cxd5,exd5,Qf5+,Kb8,Bd3,Ne7,Qf6,Ng6,Rhb1,Rd6,Qg7,Rdd8,Rb5,Qa4,Rb4,Qd7,a4,a5,Rbb1,Rde8,Bxg6,Qg4,Ne5,Qg5+,f4,Qe7,Bf5,Rg8,Qh6,Rh8,Bh7,f6,Re1,Rxh7,Nc6+', 'Bxc6,Rxe7,Rxh6,Rxe8+,Bxe8', 'https://lichess.org/training/LF459');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LFc4x', 'Rapid', 'Yorgos12', 1669, 'Artnauta', 1709, 'e4,e6,d4,d5,Nc3,Bb4,exd5,Bxc3+,bxc3,exd5,c4,Qe7+,Be2,dxc4,Be3,Be6,Nf3,Nf6,c3,O-O,O-O,c6,Ne5,Bd5,Nxc4,Qe4,Bf3,Qg6,Ne5,Qf5,Bxd5,Nxd5,Qb3,b6,Qc4,Qe6,Qe2,f6,Nf3,Re8,Rfe1,Nxc3,Qc2,Nd5,Nh4,Nxe3,Rxe3,Qf7,Nf5,Rxe3,Nxe3,Qe6,h3,Nd7,Ng4,c5,dxc5,Nxc5,Qc3,Rc8,Re1,Ne4,Qf3,f5,Ne3,Rf8,Nxf5,Rxf5,Qxe4,Qxe4,Rxe4,Ra5,a4,a6,f4,b5,axb5,axb5,Kf2,Ra8,Rb4,Rb8,Ke3,Kf7,Kd4,Kf6,Kc5,Kf5,g3,h5,Rxb5', 'Rxb5+,Kxb5,Ke4', 'https://lichess.org/training/LFc4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LFCuW', 'Rapid', 'FernandoCSE', 1733, 'dozerkov', 1710, 'e4,g6,d4,Bg7,Nf3,Nh6,Bc4,O-O,O-O,e6,e5,c6,Bg5,Qc7,Qd2,Nf5,g4,h6,Bf6,d5,Bb3,Ne7,Bxg7,Kxg7,h4,f5,exf6+,Rxf6,Ne5,Nd7,g5,hxg5,hxg5,Rf5,Ng4,b6,Nc3,Ba6,Rfe1,Raf8,Rxe6,Rxf2', 'Rxe7+', 'https://lichess.org/training/LFCuW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LFdki', 'Rapid', 'Superlollo1', 1862, 'artin2761', 1910, 'e4,d6,d4,e6,Nc3,Be7,Nf3,Nf6,Bc4,h6,Bf4,O-O,e5,dxe5,dxe5,Nh5,Be3,g5,h3,Qxd1+,Rxd1,Ng7,Bd3,Nc6,O-O,b6,Rfe1,Bb7,Bc1,Nb4,Nh2,Nxd3,Rxd3,Nf5,Ng4,Kg7,Rd7,Bd8,Red1,Bc6,R7d3,Nh4,g3,Ng6,f4,Be7,Nf6,Bxf6,exf6+,Kxf6,fxg5+,hxg5,Rf1+,Kg7,Bxg5,Bb7,Rf2,a5,Rd7,Rac8,Nb5,Bc6,Rxc7,Rxc7,Nxc7,Be4,Nb5,Bxc2,Rxc2,Ne5,Bf4,Nf3+,Kh1,Rd8,Kg2', 'Ne1+,Kf1,Nxc2', 'https://lichess.org/training/LFdki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LFelr', 'Bullet', 'Livtoexplore', 1974, 'Shelezjaka', 1901, 'Nf3,c5,g3,Nc6,Bg2,d6,d3,Bd7,O-O,Rb8,e3,b5,e4,a5,Nbd2,g6,Nh4,Bg7,f4,Nf6,Nhf3,Qb6,Kh1,h5,e5,Ng4,exd6,exd6,Qe2+,Kf8,Ne4,Re8,h3,c4,hxg4,hxg4+,Nh4,Nd4,Qd2,Nf5,Qf2,Nxh4,Qxb6', 'Nf3+,Bh3,Rxh3+,Kg2,Rh2#', 'https://lichess.org/training/LFelr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lFfzZ', 'Rapid', 'bedo777', 1947, 'yxcvbn', 1813, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Bxf2+,Kxf2,Nxe5,d4,Qf6+,Kg1,Ng6,h4,Nxh4,Nd5,Qd8,Qh5,Ng6,Bg5,Nf6,Nxf6+,gxf6,Be3,d6,Bc4,Qe7,Bd3,Bd7,e5,dxe5,Bxg6,fxg6,Qxg6+,hxg6,Rxh8+,Kf7,Rh7+,Kf8,Rxe7,Kxe7,dxe5,fxe5,Bg5+,Ke6,Rf1,Rg8,c4,Bc6,Rf6+,Kd7,b4,Be4,Rf7+,Kc6,Re7,Bd3,Rxe5,Bxc4', 'Rc5+,Kd7,Rxc4', 'https://lichess.org/training/lFfzZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lfhRS', 'Blitz', 'JHZukertort', 2111, 'snootykatchna', 2152, 'e4,e5,Nf3,f5,Bc4,fxe4,Nxe5,Qg5,d4,Qxg2,Rf1,Nf6,Bf7+,Ke7,Bb3,d6,Nc4,Bg4,Qd2,Bh3,Ne3,Qxh2,Nc3,Nc6,Ncd5+,Kd7,Qc3,Re8,Bd2,Bxf1,Nxf1,Qh5,Nf4,Qg4,Ba4,d5,Be3,Bd6,Ne2,h5,Qd2,h4,O-O-O,h3,Nfg3,h2,Bf4,Bxf4,Nxf4,Qf3,Nh1,Ng4,Nxd5,e3,Nxe3,Nxe3,fxe3,Rxe3,d5,Re2,dxc6+,Kc8', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/lfhRS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lFIzV', 'Classical', 'TheSherif', 2071, 'rajiv78', 1984, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,e6,Bf4,Be7,Nf3,O-O,Nbd2,Nc6,O-O,a6,Re1,b5,Ne5,Nxe5,Bxe5,Nd7,Bf4,b4,Nf3,Bb7,Ne5,a5,Re3,Nxe5,Bxe5,Bd6,Qh5,g6,Qh6,Bxe5,Rxe5,Qf6,Rae1,Qg7,Qh4,bxc3,bxc3,Rfc8,Qe7,Ba6,Bxa6,Rxa6,R5e3,Qf8,Qf6,Rac6,h4,Rxc3,h5,Rxe3,Rxe3,Rc4,hxg6,hxg6', 'Rh3,Qg7,Qd8+', 'https://lichess.org/training/lFIzV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lfjVc', 'Classical', 'fahimmd', 1822, 'carvajal_arturo', 1779, 'c4,Nf6,Nf3,d5,e3,Bd7,d4,dxc4,Bxc4,e6,a3,Be7,Nc3,O-O,O-O,c6,b4,Nd5,Nxd5,cxd5,Bd3,Kh8,Ne5,Be8,Qc2,f5,Bd2,Nd7,Qb3,Nxe5,dxe5,Rc8,Bc3,Bd7,Bd4,a6,a4,Qe8,b5,a5,b6,Bc5,Bb5,Bxd4,exd4,Bxb5,axb5,Rc4,Rxa5,Rxd4,Rd1,Rc4,Ra7,Qc8,h3,h6,Qa3,Re8,Ra1,Qb8,Ra8,Qxa8,Qxa8,Rxa8,Rxa8+,Kh7,Ra7,Rb4,Rxb7,Rxb5,Kf1,Kg6,g3,d4,f4,Rb3,Kf2,d3,Rd7,Rxb6,Rxd3,Kh5,Rd2,g5,Kg2,Kg6,Rd6,Rxd6', 'exd6,Kf7,fxg5', 'https://lichess.org/training/lfjVc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LFM4M', 'Rapid', 'Richiemedina', 1927, 'Cwk_jaiden_s', 2002, 'e4,e6,c4,d5,cxd5,exd5,exd5,Qxd5,Nc3,Qa5,a3,c6,Bc4,Nf6,Nge2,Bd6,O-O,Bf5,Re1,O-O,Ng3,Bg6,d3,h5,Bd2,h4,Nce4,Qc7,Nf1,Nxe4,dxe4,Nd7,Bg5,h3,gxh3,Ne5,Ba2,Qd7,Re3,Bc5,Qxd7,Nxd7,Ree1,Ne5,Kg2,Nd3,Re2,Rae8,f3,Re5,h4', 'Rxg5+,hxg5,Nf4+,Kg3,Nxe2+', 'https://lichess.org/training/LFM4M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lFmoe', 'Blitz', 'zbrizkantsar', 2205, 'geisterseher', 2138, 'e4,e5,Nf3,f5,Nxe5,Nc6,Qh5+,g6,Nxg6,Nf6,Qh4,fxe4,Nxh8,Nd4,Kd1,Nf5,Qh3,d5,g3,Nd4,Qg2,Bg4+,Be2,Bxe2+,Ke1,Bf3,Qf1,Bxh1,Qxh1,Nxc2+,Kd1,Nxa1,Nc3,Qe7,b3,Qg7,Bb2,Nxb3,axb3,Qxh8,Nxd5,O-O-O,Bxf6,Qg8,Qxe4,Rxd5', 'Qe8+,Rd8,Qxd8#', 'https://lichess.org/training/lFmoe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lFmSF', 'Blitz', 'free-merte', 1660, 'goldietoon', 1664, 'e4,c5,Nf3,d6,c3,Nc6,Bb5,Qc7,d4,cxd4,cxd4,e6,Nc3,Ne7,Be3,g6,O-O,Bg7,e5,dxe5,dxe5,O-O,Bxc6,Nxc6,Qd2,Nxe5,Nxe5,Qxe5,Bh6,b6,f4,Qc5+,Kh1,Bb7,Bxg7,Kxg7,Rae1,Rad8,Qe2,Rd7,Ne4,Qc8,Ng5,Rfd8,Qg4,Rd2,Qh4,Bxg2+,Kg1,Qc5+,Rf2,Rxf2', 'Qxh7+,Kf6,Qxf7#', 'https://lichess.org/training/lFmSF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lfoh3', 'Rapid', 'abidara', 2110, 'culecuki', 1741, 'd4,d5,c4,e6,Nc3,Nf6,e3,Bb4,a3,Bxc3+,bxc3,O-O,cxd5,exd5,Bd3,Nbd7,Qc2,c5,Ne2,c4,Bf5,Qe7,Ng3,Nb6,O-O,Bxf5,Qxf5,Qe6,Qxe6,fxe6,f3,Nbd7,e4,dxe4,fxe4,b5,Bg5,h6,Bf4,Ng4,h3,Ngf6,Bd6,Rf7,e5,Nd5,Rxf7,Kxf7,Rf1+,Kg8,Rf3,N7b6,Nh5,Rd8,Nf4,Nxf4,Rxf4,Nd5,Rf3,a5,g4,Rc8,Kg2,b4,axb4,axb4,Bxb4,Nxb4,cxb4,Rb8,Rc3,Rxb4,Kf2,Kf7,h4,Kg6,Ke3,Rb3,Rxb3', 'cxb3,Kd2,h5,g5,Kf5', 'https://lichess.org/training/Lfoh3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LFoXZ', 'Rapid', 'dahaiou', 1880, 'MagistreArtifex', 1964, 'e4,c6,d4,d5,e5,g6,f4,Bg7,Nf3,Bg4,Be2,Nh6,O-O,Qd7,Ng5,Bf5,Nc3,f6,e6,Bxe6,Nxe6,Qxe6,f5,Nxf5,Bg4,Nd7,Bxf5,gxf5,Qh5+,Qf7,Qxf5,e6,Qf4,O-O-O,a4,Qg6,a5,e5,dxe5,fxe5,Qa4,Rhg8,a6,b5,Nxb5,cxb5,Qxb5,Nb6,Bg5,Bf8,Rf6,Qxg5', 'Qc6+,Kb8,Qb7#', 'https://lichess.org/training/LFoXZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LfqmQ', 'Rapid', 'blessedman939', 1721, 'johntj', 1648, 'd4,d5,c4,dxc4,e4,e6,Bxc4,c5,Nf3,Nc6,d5,exd5,exd5,Nb8,Qe2+,Qe7,O-O,Qxe2,Bxe2,Nf6,Re1,Kd7,Ne5+,Kc7,Nxf7,Rg8,Bc4,Bd6,Bg5,Nbd7,Nc3,a6,Bxf6,Nxf6,Nxd6,Kxd6,Ne4+,Nxe4,Rxe4,Bf5,Rf4,Raf8,Re1,g5,Rf3,h5,Rb3,b5,Bd3,c4,Bxc4,bxc4,Rb6+,Kxd5,Rxa6,Bd3,Ra5+,Kd4,Ree5,Re8', 'Rad5#', 'https://lichess.org/training/LfqmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lFtdW', 'Rapid', 'Anish2020', 1662, 'Tocomocho', 1629, 'e4,e5,Nf3,d6,d4,f6,dxe5,fxe5,Nc3,Nf6,Bg5,Be7,Bc4,Nc6,O-O,Na5,Be2,b6,Bxf6,Bxf6,Nb5,a6,Nc3,O-O', 'Qd5+,Be6,Qxe6+', 'https://lichess.org/training/lFtdW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lftGi', 'Rapid', 'sms1010', 2022, 'Marcosales', 2093, 'e4,e6,d4,d5,Nc3,Nf6,exd5,exd5,Bd3,Bd6,h3,O-O,Qf3,Re8+,Nge2,Nc6,O-O,Be6,Bg5,Be7,Rad1,h6,Bf4,a6,a3,Bd6,Be3,Ne7,Ng3,Qd7,Bxh6,Bxh3,Bxg7,Kxg7,gxh3,Qxh3', 'Nf5+,Qxf5,Bxf5', 'https://lichess.org/training/lftGi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lFVvB', 'Blitz', 'suprem3', 1588, 'Naovi', 1507, 'd4,e5,dxe5,d5,exd6,Qxd6,Qxd6,Bxd6,Nc3,Nc6,a3,Nd4,Kd1,Bf5,e3', 'Bxc2+,Kd2,Nb3+,Kxc2,Nxa1+', 'https://lichess.org/training/lFVvB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LfXED', 'Rapid', 'Raygyy', 1702, 'Moham_edchess', 1778, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Be3,Qb6,b3,cxd4,Bxd4,Nxd4,Nxd4,Bc5,Bb5+,Bd7,Bxd7+,Kxd7,c3,Ne7,O-O,Nf5,b4,Nxd4', 'bxc5,Ne2+,Qxe2', 'https://lichess.org/training/LfXED');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LFxpV', 'Blitz', 'baslav01', 1760, 'boubtn', 1848, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,d3,Bg4,Nf3,e6,O-O,Be7,Bf4,O-O,h3,Bh5,Qd2,Bxf3,gxf3,c6,Kh2,Kh8,d4,Bd6,Rg1,Qc7,Ne2,Na6,Bd3,Nb4,Kh1,Bxf4,Nxf4,Nxd3,Nxd3,Rad8,c3,Rg8,Ne5,Nd5,Qg5,f6', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/LFxpV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LfxVX', 'Rapid', 'The_blue_penguin', 1748, 'ferVist', 1695, 'e4,e5,Nf3,d5,exd5,Nf6,Nxe5,Qxd5,Qe2,Be7,Nc3,Qd6,Nb5,Qc5,d4,Qb4+,c3,Qa5,Bd2,O-O,c4,Qa4,Nxc7,Qc2,f3,Nc6,Nxa8,Nxd4,Qd3,Qxd3,Bxd3,Bd6,Ng4,Re8+,Kd1,Bxg4,fxg4,Nxg4,Re1', 'Nf2+,Kc1,Nxd3+', 'https://lichess.org/training/LfxVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LfY2N', 'Blitz', 'Swissman', 1892, 'ilyas16', 1813, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,Nc6,d3,g6,f4,Bg7,Nf3,O-O,O-O,Qb6,h3,c4+,Kh2,cxd3,cxd3,Nh5,Ne2,e5,g4,Nxf4,Nxf4,exf4,Bxf4,Ne5,Rb1,Be6,b3,Rac8,d4,Nxf3+,Bxf3,Qxd4,Qxd4,Bxd4,Bxd6,Rc2+,Kg3,Rd8,e5,f6,Bxb7,fxe5,Ba3,Rxa2,Bc1,Rb8,Be4,Rxb3+,Rxb3,Bxb3,Bh6,Bc5,Rb1,Ra3,Kg2,Ra2+,Kg3,Ra3,Kg2,Bb6', 'Rxb3,Rxb3,Bd5+,Kh8,Bxb3', 'https://lichess.org/training/LfY2N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lfyQz', 'Blitz', 'collusion1103', 2429, 'FM slamdunk4', 2366, 'd4,Nf6,Bf4,e6,e3,c5,c3,Nc6,Nd2,d5,Ngf3,Nh5,Bg3,Nxg3,hxg3,Qb6,Rb1,Bd7,Bd3,h6,Qe2,cxd4,exd4,Be7,g4,g5,Ne5,Nxe5,Qxe5,O-O-O,c4,Bc6,cxd5,Bxd5,Rc1+,Kd7,O-O,f6,Qe2,Rc8,Bb5+,Bc6,Bc4,Bd5,Bxd5,exd5,Nf3,Rxc1,Rxc1,Bd6,Re1,Kc7,Qe6,Rf8,Qxd5,Qc6,Qxc6+,Kxc6,Kf1,Kd5,Ke2,Re8+,Kd2', 'Bb4+,Kd1,Bxe1', 'https://lichess.org/training/lfyQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lfyra', 'Rapid', 'Marcelo905', 1840, 'wdsrayuk', 1775, 'Nf3,d5,d4,Nc6,c4,Nf6,Bf4,e6,e3,Bb4+,Nbd2,O-O,Bd3,Nh5,Bg3,dxc4,Bxc4,a6,Qc2,Bd7,Bd3,f5,a3,Be7,b4,b5,Rc1,Rc8,O-O,Nxg3,hxg3,Bd6,e4,fxe4,Bxe4,Qf6,Bxc6,Bxc6,Qxc6,Qh6,Ne4,Rf5,Nxd6,Rh5,Nh2,Rxh2,f3', 'Rh1+,Kf2,Qd2#', 'https://lichess.org/training/lfyra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lfz06', 'Rapid', 'toLowerCase', 1728, 'noobad_lunatic', 1777, 'd4,d5,Bf4,Nf6,Nc3,e6,e3,Bd6,Bxd6,Qxd6,Bd3,O-O,Nge2,e5,dxe5,Qxe5,O-O,Ng4,g3,Qh5,h4,g5,Kg2,gxh4,Rh1,Ne5,Rxh4,Qf3+,Kf1,Ng4,Qe1', 'Nxe3+,Kg1,Qg2#', 'https://lichess.org/training/Lfz06');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LfzA2', 'Bullet', 'Voffka64', 2057, 'FM Oleg_Papayan', 2682, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c4,Qa5+,Qd2,Qxd2+,Kxd2,Bg5+,Kd1,O-O,cxb5,axb5,Bxb5,Nd4,Bd3,Rb8,b3,Bg4+,Ke1,Rfc8,h3,Bh5,g4,Bg6,Kf1,Ra8,Nc4,Nxb3,Rb1,Rxc4,Rxb3,Rd4,f3,h6,h4,Bd8,a3,h5,g5,Rda4,Ke2,Rxa3,Rhb1,Rxb3,Rxb3,Kh7,Rb7,Ra2+,Ke3,Ba5,Bc4,Ra3+,Ke2,Ra1,Kf2,Be1+,Kg2,Bxh4,Rd7,Bxg5,Rxd6,h4,Rd7,Rc1,Bb3,Rb1,Bc4,Rb2+,Kg1,h3,Bf1,h2+,Kh1,Bh5,Bg2,Bh4,Kxh2,Bxf3,Kh3,Rxg2,Kxh4,Bxe4,Ne3,g5+,Kh3,Kg6,Nxg2', 'Bf5+,Kg3,Bxd7', 'https://lichess.org/training/LfzA2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lg0oa', 'Rapid', 'WildThyme', 1692, 'OrxanASAG', 1663, 'c4,e5,g3,Bc5,Bg2,Nc6,e3,d6,Nc3,Nf6,Rb1,Bf5,d3,a6,a3,O-O,b4,Ba7,Nge2,Ng4,h3,Nf6,Bd2,Qd7,Qc2,h6,e4,Be6,b5,axb5,Nxb5,Bb6,a4,Rfb8,f4,exf4,Nxf4,Nd4,Nxd4,Bxd4,a5,c6,Ke2,g5,Nxe6,Qxe6,g4,Qe5,Rhf1,Qg3,Bh1,Qxh3,Bc3,Qxg4+', 'Bf3,Qe6,Bxd4', 'https://lichess.org/training/lg0oa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LG1Fp', 'Classical', 'cjc321', 1674, 'cuttsy1974', 1656, 'e4,e5,Nf3,Nc6,Nc3,Nf6,a3,Bc5,h3,O-O,Bb5,a6,Bc4,d6,d3,h6,Nd5,Na5,Ba2,c6,Nxf6+,Qxf6,b4,Bb6,bxa5,Bxa5+,Bd2,Bb6,Rb1,Bc5,Bb4,Ba7,Ba5,Qg6,Rg1,Rb8,Bb6,Bxb6,Rxb6,Kh8,Qd2,f5,Kf1,fxe4,dxe4,Qxe4,Rb3,Be6,Re3,Qf5,Bxe6,Qxe6,Re4,Rbd8,Ke2,Qg6,Qe3,d5,Rg4,Qxc2+,Nd2,Rf5,Re1,d4,Qd3', 'Rxf2+,Kxf2,Qxd3', 'https://lichess.org/training/LG1Fp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lg1hJ', 'Rapid', 'amirhoseinMWM', 1804, 'Canarion47', 1945, 'g3,d5,Bg2,e5,Nc3,c6,d4,e4,f3,f5,g4,Qh4+,Kf1,fxg4,fxe4,Be7,exd5,Nh6,dxc6,Rf8+,Nf3,gxf3,exf3,Bh3,cxb7,Qg4,Rg1', 'Rxf3+,Qxf3,Qxf3+', 'https://lichess.org/training/lg1hJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lG1in', 'Blitz', 'BlackWidow4Doom', 1652, 'manuxei2', 1604, 'e4,e6,d4,d5,e5,c5,c3,Nc6,f4,Qb6,Nf3,cxd4,cxd4,Nge7,Bd3,Bd7,O-O,Nxd4,Be3,Nxf3+,Qxf3,d4,Bc1,Bc6,Qg4,Rd8,f5,Nxf5,Bxf5,d3+,Kh1,d2,Bxe6,dxc1=Q', 'Bxf7+,Ke7,Qe6#', 'https://lichess.org/training/lG1in');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lg2HX', 'Rapid', 'Reetesh-Somera', 2023, 'khat', 1945, 'd4,Nf6,c4,d6,Nf3,g6,a3,Bg7,Bg5,c6,Nc3,h6,Bxf6,Bxf6,e4,Qb6,h3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/Lg2HX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lg4Z0', 'Rapid', 'giuseppinoo', 2166, 'wallygatore', 2199, 'e4,e6,d4,d5,exd5,exd5,Bd3,c5,dxc5,Bxc5,Nc3,Nf6,Bg5,O-O,Qf3,Re8+,Nge2,Be7,Bxf6,Bxf6,O-O,Be6,Nb5,Nc6,Qg3,Bxb2,Rab1,Bf6,f4,a6,f5,axb5,fxe6,Rxe6,Qh3,h6,Rxb5,Nd4,Nxd4,Bxd4+,Kh1,Rf6,Rxf6,Qxf6,Rxd5,Qf2,Qf5', 'Qg1#', 'https://lichess.org/training/lg4Z0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lg5uB', 'Rapid', 'HarrisonWells96', 1668, 'Phenibut', 1781, 'c4,c6,Nc3,d5,cxd5,cxd5,d4,Nc6,g3,g6,Bg2,e6,e3,Bg7,Nge2,Nf6,O-O,O-O,b3,e5,dxe5,Nxe5,Nf4,Neg4,Nfxd5', 'Nxd5,Nxd5,Bxa1', 'https://lichess.org/training/Lg5uB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LG61O', 'Rapid', 'lantang', 1859, 'BogomilTodorov', 2090, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,h4,O-O,h5,Nxh5,Rxh5,gxh5,Qxh5,Bxd4,Nf3,Bxc3+,bxc3,f6,Bc4+,Kh8,O-O-O,Qe8,Qh2,e5,Rh1,Qg6,Nh4,Qxe4,Bd2,Qg4,f3,Qg7,Bd3,f5,g4,e4,fxe4,fxg4,e5,g3,Qg2,Rf2,Qe4,Rh2,Rf1,Nd7,e6,g2,Nxg2,Nc5,e7,Nxd3+,cxd3,Bd7,Qxb7,Re8,Nf4,Qxe7,Qxc7,Bh3,Qxe7,Rxe7,Rg1,Rf7,Nxh3,Rxh3,c4,Rxd3,Kc2,Rff3,Rb1,Ra3,Rb8+,Kg7,Rb7+,Kg6,Kb2,Ra6,Bb4,Rf2+,Kb3,h5,a3,h4,Rb8,h3,Rh8,h2,Kc3,Kg5,Kd4,Kg4,Ke4,Re2+,Kd3,Ra2,Ke3,d5,c5,Re6+,Kd4,Re1,Bxe1,Rxa3,Kxd5', 'Rh3,Rxh3,Kxh3', 'https://lichess.org/training/LG61O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LG8Xw', 'Blitz', 'Ausstein', 1524, 'baddrumer', 1517, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Nc6,Nc3,Bf5,Qb3,e6,Qxb7,Rc8,Nf3,Bb4,e3,Nge7,Ne5,Bxc3+,bxc3,Nxe5,Bxe5,O-O,Rc1,Qa5,Qb3,Ng6,Bg3,Rfe8,Bb5,Re7,O-O,e5,Qxd5,exd4,cxd4,Rxc1,Rxc1,Be6,Qa8+,Nf8,Bc4,Bxc4,Bd6,Qd2,Ra1,Qb2,Re1,Qd2,Rb1,Qc2', 'Qxf8+,Kxf8,Rb8#', 'https://lichess.org/training/LG8Xw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lg9xQ', 'Rapid', 'komal12', 1832, 'M4N500R_4NW4R1', 1900, 'c4,d6,Nc3,e5,g3,Nc6,Bg2,Bd7,e3,Nf6,Nge2,Bg4,Qa4,Qd7,Nd5,Bxe2,Nxf6+,gxf6,Kxe2', 'Nd4+,exd4,Qxa4', 'https://lichess.org/training/lg9xQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGAQb', 'Rapid', 'Freeccs_30', 1707, 'Warrad', 1680, 'd4,d5,c4,e6,Nf3,c6,Nc3,Nf6,e3,b6,cxd5,cxd5,Bd3,Nc6,O-O,a5,a4,Ba6,Bxa6,Rxa6,Nb5,Nb4,Bd2,Ne4,Bxb4,Bxb4,Qc2,O-O,Ne5,Nd6,Nc6,Qd7,Nxb4,axb4,Nxd6,Qxd6,b3,Rfa8,Rfc1,h6,Qd2,b5,Qd3,bxa4,bxa4,Rxa4', 'Rxa4,Rxa4,Rc8+,Qf8,Rxf8+', 'https://lichess.org/training/lGAQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LgAZF', 'Rapid', 'WagnerdeCarvalho', 1809, 'cloud712', 1812, 'd4,d5,c4,c6,Nf3,Bg4,e3,Bxf3,Qxf3,Nf6,Nd2,e6,cxd5,exd5,b3,g6,Bb2,Bg7,Bd3,O-O,O-O,Nbd7,Rac1,Re8,Rfe1,Nf8,Qg3,Ne4,Nxe4,dxe4,Bc2,Nd7,Qf4,Nf6,f3,Nd5,Qg3,f5,fxe4,fxe4,Bb1,Bh6,Rc2,Qg5,Qxg5,Bxg5,Rce2,a5,a4,Re6,Bc1,Rae8,Rf2,Nc3,Bc2,b5,axb5,cxb5,Bd2,Rc8,g3,b4,h4,Bh6,Ra1,Ra8,g4,Bf8,Rf4,Bd6,Rf2,Bg3,Rg2,Bxh4,Bxc3,bxc3,b4,Bd8,bxa5,Rxa5', 'Rxa5,Bxa5,Bb3', 'https://lichess.org/training/LgAZF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LGBdt', 'Blitz', 'SebastianChess', 1759, 'KalininMaxim', 1734, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Bg7,Be3,Bd7,O-O,Nc6,f4,Qc8,Ncb5,a6,Nxc6,Bxc6,Nxd6+,exd6,Qxd6,Qe6,e5,Qxd6,exd6,O-O-O,Rad1,Nd5,Bc5,Bxb2,c4,Nc3,Rd2,Nxe2+,Rxe2,Bf6,f5,Bg7,fxg6,fxg6,Rf7,Bf8,Re6,Rd7', 'Re8+,Rd8,Rc7+,Kb8,Rxd8#', 'https://lichess.org/training/LGBdt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lgBeL', 'Rapid', 'hnj', 1834, 'seeyal2002', 1958, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,Nf3,O-O,h3,dxc4,Bxc4,c5,d5,e6,dxe6,Qxd1+,Nxd1,Bxe6,Bxe6,fxe6,b3,Ne4,Bb2,Nc6,O-O,Rad8,Ng5,Nxg5,Bxg7,Kxg7,Nc3,a6,Ne2,Rd2,Nf4,Kf7,f3,h6,h4,Nh7,Rfc1,b6,a3,Rc8,b4,cxb4,axb4,Ne7,Rxc8,Nxc8,Rxa6,Nf6,Ra8,Rc2,Rb8,Nd5,Rb7+,Kf6,Nh3,Nxe3,Nf2,Nd5,g4,Nxb4,f4,Rc4', 'g5+,hxg5,hxg5+,Kf5,Rf7#', 'https://lichess.org/training/lgBeL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGD1k', 'Rapid', 'EDPAUL', 2101, 'jka', 2214, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Bb5,Bf5,Nf3,e6,O-O,Qb6,Bd3,Bxd3,Qxd3,c4,Qe2,Nge7,Ng5,h6,Nf3,O-O-O,b3,cxb3,axb3,Qxb3,Nbd2,Qb6,Ba3,Nf5,Rfb1,Qc7,Bxf8,Rhxf8,Nb3,b6,Qa6+,Qb7,Qb5,Qc7,c4,dxc4,Qxc4,Ncxd4,Qxc7+,Kxc7,Nfxd4,Nxd4,Rxa7+,Kb8,Ra6,Kb7,Nc5+,Kc6,Ne4,Kd5,Nc3+,Kxe5,Raxb6,Rc8,Nd1,f5,Rb7,g5,Ne3,h5,Rh7,Rh8,Rg7,Kf6,Ra7,f4,Nd1,Rc6,f3,Rd8,Nf2,Nf5,Ne4+,Ke5,Nxg5,Ne3', 'Nf7+,Kf6,Nxd8', 'https://lichess.org/training/lGD1k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lgd4L', 'Rapid', 'whitedead', 1985, 'frimpe', 2017, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Bb5,Bd6,d4,Ne7,Bg5,O-O,Re1,f6,Bh4,cxd4,Nxd4,Nxd4,Qxd4,Be5,Rxe5,fxe5,Qxe5,Qb6,Nc3,Ng6,Qxd5+,Be6,Qe4,Kh8,Rf1,Bf5,Qa4,Rad8,Bxd8,Rxd8,Qb3,a6,Ba4,Qf6,Qxb7,Qg5,Ne4,Qg4,f3,Qf4,Qb6,Rf8,Qxa6,Qe3+,Kh1,Qd4,c3,Qe3,Bb3,h5,Qc4,Bxe4,fxe4,Rxf1+,Qxf1,Qxe4,Qd1,Qh4,g3,Qe4+,Kg1,Qe3+,Kg2,Qg5,Qf3', 'Nh4+,Kf2,Nxf3', 'https://lichess.org/training/Lgd4L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lgDL9', 'Classical', 'Nimaghiasi', 1620, 'YasinGhara', 1983, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Nxe4,Nxe4,d5,Bxd5,Qxd5,Nc3,Qd8,d3,Be6,O-O,Be7,Re1,Bf6,Be3,O-O,Qd2,Nd4,Bxd4,exd4,Ne4,Re8,Nxf6+,Qxf6,c3,dxc3,bxc3,Bd5,Rxe8+,Rxe8,Re1,Rd8,Re3,Qh6,Qe2,Kf8,c4,Bc6,Ne5,a6,Nxc6,Qxc6,h3,Re8,Rxe8+,Qxe8,Qxe8+,Kxe8,Kf1,Kd7,Ke2,Kd6,d4,b5,cxb5,axb5,Kd3,Kd5,Kc3,c6,f3,g5,a3,h5,Kd3,f5,g3,g4,hxg4,hxg4,fxg4', 'fxg4,Ke3,Kc4', 'https://lichess.org/training/lgDL9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGDQf', 'Rapid', 's3nstn', 1845, 'Narechok', 2263, 'e4,d6,d4,Nf6,Nc3,g6,Bg5,Bg7,Nf3,O-O,Bc4,Bg4,O-O,c6,Re1,Qa5,e5,dxe5,dxe5,Nd5,Nxd5,cxd5,Bxd5,Nc6,Bxc6,bxc6,Bxe7,Rfe8,Bd6,Rad8,Qe2', 'Rxd6,exd6,Rxe2', 'https://lichess.org/training/lGDQf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lgEa8', 'Rapid', 'dkatz770', 1960, 'Heldo_Manhica', 1986, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,Nc3,O-O,Bxc6,dxc6,Nxe5,Bd4,Nf3,Bxc3,dxc3,Qxd1,Rxd1,Nxe4,Bf4,Bg4,Bxc7,Bxf3,gxf3,Ng5,f4,Ne6,Rd7,Rfc8,Bd6,b6,f5,Ng5,Bf4', 'Nh3+,Kf1,Nxf4', 'https://lichess.org/training/lgEa8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LgEEy', 'Rapid', 'BastaFidell', 1994, 'munitech4u', 2092, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d5,cxd5,Nxd5,e4,Nb6,Bf4,a6,Rc1,c6,Be2,O-O,O-O,N8d7,Qb3,Nf6,Rfd1,Nh5,Be3,Nd7,d5,Qe8,Nd4,c5,Nf3,b6,e5,Nxe5,Nxe5,Bxe5,Bxh5,gxh5,Ne4,Qb5,Rd3,Bf5,Bh6,Bxe4,Rg3+,Bg6,Bxf8,Bxg3,Bxe7,Qxb3,axb3,Be5,d6,Bxb2,Rd1,Bd4,d7,Bc2,Re1,Bxb3,Bxc5,Ba4,Bxd4,Bxd7,Bxb6,a5,Re5,a4', 'Rg5+,Kf8,Bc5+,Ke8,Rg8#', 'https://lichess.org/training/LgEEy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lgef3', 'Blitz', 'gh-akbari', 1863, 'klin-man', 1696, 'e4,e6,d4,d5,e5,Ne7,Nf3,Ng6,Bd3,Be7,h4,h5,g3,c5,Bxg6,fxg6,c3,O-O,Qd3,Qe8,Bg5,c4,Qe3,Bd7,Nbd2,Qf7,Bxe7,Qxe7,O-O,Nc6,Ng5,Qe8,Ndf3,Ne7,Nh2,Nf5,Qd2,a5,Kg2,a4,f3,a3,b3,cxb3,axb3,a2,Rxa2,Rxa2,Qxa2,Ne3+,Kh3,Nxf1,Nxf1,Qa8,Qc2,Qa6,Ne3,Bb5,c4,dxc4,bxc4,Bc6,d5,exd5,cxd5,Ba4,Qe4,Qe2,Ng2,Qb5,Qxg6,Qxd5,Ne6,Rf7,Ngf4,Qd1,Nxh5,Qh1+,Kg4,Bd7', 'Nf6+,Rxf6,Qxg7#', 'https://lichess.org/training/lgef3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LGF8S', 'Rapid', 'restorator2019', 2180, 'timuru', 1956, 'd4,d5,c4,Nf6,Nc3,e6,Bf4,c5,e3,cxd4,exd4,Bb4,Nf3,Qa5,Qb3,Ne4,Rc1,Nc6,Bd3,O-O,O-O,dxc4,Qxc4,Nxc3,bxc3,Be7,Bb1,Qd8,Qd3,f5,c4,Bf6,d5,Nb4,Qb3,a5,a3,Na6,c5,exd5,Bd6,Rf7,Qxd5,Nc7,Qc4,Be6,Bxc7,Bxc4', 'Bxd8,Bxf1,Bxf6', 'https://lichess.org/training/LGF8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LgGM9', 'Rapid', 'kian55', 2016, 'Yohanzzz', 1976, 'd4,d5,Bg5,Nc6,c3,Nf6,e3,Bf5,Bd3,Bxd3,Qxd3,Ne4,Bh4,g5,Bg3,h5,Nd2,Nxd2,Qxd2,h4,Be5,f6,Qd3,Rg8,Qh7,Rg7,Qh5+,Rf7,Nf3,Qd7,Nxg5,fxg5,Qxg5,O-O-O,Bf4,Rg7,Qxh4,Rxg2,Bg3,Qf5,Kf1,Qf3', 'Qh3+,e6,Qxg2', 'https://lichess.org/training/LgGM9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lgGoZ', 'Rapid', 'teresin05', 2064, 'luis2345genial', 2015, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nb3,e6,Nc3,Bb4,Be3,Qc7,Bd3,Nf6,O-O,O-O,a3,Bxc3,bxc3,Ne5,Qd2,b6,Nd4,Nc4,Bxc4,Qxc4,f3,Ba6,Rfb1,Rac8,Rb3,d5,e5,Nd7,f4,Nc5', 'Rb4,Ne4,Rxc4,Nxd2,Rxc8,Rxc8,Bxd2', 'https://lichess.org/training/lgGoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LGhgK', 'Rapid', 'ZARNO_247365-234567', 1748, 'female_supremacy', 1742, 'f4,d5,g3,f6,Nh3,e5,d3,c5,Nf2,Nc6,c3,Bd6,e3,Nge7,Na3,a6,b4,b6,Nc2,Bd7,a4,O-O,h4,d4,Bh3,Bxh3,Rxh3,cxb4,cxd4,exd4,Ne4,dxe3,Bxe3,Bc7,Qg4,b3,Na3,Qxd3,Qe6+,Kh8,Ng5,fxg5,hxg5,b2,Rd1,Qxa3,Rxh7+,Kxh7,f5,Nxf5,g6+,Kh8,Bf2,Nxg3', 'Qh3+,Nh5,Qxh5+,Kg8,Qh7#', 'https://lichess.org/training/LGhgK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGJpe', 'Blitz', 'Ottopaule', 1927, 'FM Titanium63', 2355, 'd4,d5,Nf3,Nf6,e3,Bf5,c4,c6,Nc3,e6,Qb3,Qc7,cxd5,exd5,Bd2,Nbd7,Rc1,a6,Nxd5,Nxd5,Qxd5,Be6,Qe4,Nf6,Qb1,h6,Bd3,Be7,O-O,O-O,e4,Rfd8,Be3,Ng4,d5,Bd7,Bd4,Bd6,h3,Ne5,Nxe5,Bxe5,Bxe5,Qxe5,f4,Qd4+,Kh1,cxd5,Rfd1,Qe3,exd5,Bxh3,Re1,Qg3,gxh3,Qxh3+,Kg1,Qg3+,Kf1,Qxf4+,Ke2,Re8+,Kd1,Qf3+,Kc2,Rac8+,Kb3,Qxd5+,Bc4,Qf3+,Rc3,Rxe1,Qxe1,Qf6,Qe3,Rd8,Bd3,a5,Rc7', 'Rxd3+,Qxd3,Qb6+,Kc3,Qxc7+', 'https://lichess.org/training/lGJpe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lgJvp', 'Classical', 'yaroslavl_zolotarev', 1729, 'glucklich', 1849, 'e4,c5,c3,a6,Nf3,d6,d4,cxd4,cxd4,Nf6,Bd3,e5,dxe5,dxe5,Nxe5,Qa5+,Nc3,Qxe5,O-O,Bd6,f4,Qd4+,Kh1,Ng4', 'Bb5+,axb5,Qxd4', 'https://lichess.org/training/lgJvp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lgkN6', 'Rapid', 'caduzon', 1718, 'asv70', 1897, 'e4,c6,Nf3,d5,exd5,cxd5,Nc3,Bg4,Be2,a6,d4,e6,O-O,Nc6,Ne5,Bxe2,Qxe2,Nxd4,Qg4,Nxc2,Qa4+,b5,Qxc2,Nf6,Bg5,Be7,f4,h6,Bxf6,Bxf6,Ne2,Rc8,Qd2,O-O,Rac1,Qd6,Rxc8,Rxc8,Rc1,Rxc1+,Qxc1,Bxe5,fxe5,Qxe5,Qd2,Qd6,Nd4,Qb6,Kf1,e5,Nb3,d4,Qd3,a5,Qe4,f6,a3,a4,Nd2,b4,Nc4,Qb5,Qe2,bxa3,bxa3,Qb1+,Kf2,d3,Qd2', 'Qc2,Ke3,Qxc4', 'https://lichess.org/training/lgkN6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LglIz', 'Rapid', 'achraffe', 1681, 'Sivakumaran_dw19', 1674, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Bxf7+,Kxf7,Nxe5+,Ke8,c3,d6,Nd3,Bg4,Qa4+,b5,Qxd4,Bh5,O-O,Ne7,Nf4,Bg4,f3,Bc8,e5,Nf5,Qe4,c6,exd6+,Kf7,d4,Bxd6,Nh3,Qd7,Bf4,Re8,Qd3,Bxf4,Nxf4,Re3,Qc2,Qd6,Nd3,b4,Ne5+,Kg8,Nd2,bxc3,Ndc4,Qd5,Rfe1,Rxe1+,Rxe1,Qxd4+,Kf1,cxb2,Nxb2,Ne3+,Rxe3,Qxe3,Qc4+,Kh8,Nf7+,Kg8,Ng5+,Kh8,Nf7+,Kg8,Nd1,Qe7', 'Nh6+,Kf8,Qg8#', 'https://lichess.org/training/LglIz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGMnb', 'Rapid', 'thebrs', 2232, 'DarioOlivan', 2150, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,d6,d4,exd4,Nxd4,Be7,Nxc6,bxc6,Nc3,Bb7,Bf4,O-O,Re1,Re8,Qf3,Bf8,Rad1,Qc8,Bg5,Qg4,Qxg4,Nxg4,f3,Ne5,Bf1,f6,Bh4,Rad8,Bg3,g6,Bf2,Bg7,Bxa7,Ra8,Be3,f5,exf5,gxf5,Bf4,Ba6,b3,Nxf3+,gxf3,Bxc3', 'Rxe8+,Rxe8,Bxa6', 'https://lichess.org/training/lGMnb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGmof', 'Rapid', 'FaouziNad', 1908, 'Omidjavanbakht', 1936, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,Bf4,e6,Bg5,Be7,e3,O-O,cxd5,exd5,Be2,Nbd7,O-O,Re8,h3,Ne4,Bxe7,Qxe7,Qb3,Rab8,Rad1,Ng5,Nxg5,Qxg5,Kh2,Nf6,Bf3,Ne4,Bxe4,Bxe4,Nxe4,Rxe4,f4,Qe7,Rf3,Re8,Re1,f5,Qc3,h6,g4,fxg4,hxg4,Qh4+,Rh3,Qxg4,Rg1,Qe2+,Rg2,Qb5,Rxh6,Rxe3,Qc2,Re2', 'Qh7+,Kf7,Qxg7#', 'https://lichess.org/training/lGmof');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGMUQ', 'Blitz', 'tasosv95', 2401, 'GM RobCifuentes', 2519, 'd4,d5,e3,Nf6,f4,g6,Nf3,Bg7,Bd3,O-O,O-O,c5,c3,b6,Nbd2,Ba6,Qe2,Bxd3,Qxd3,Nc6,b3,Qc7,Ne5,Rac8,Bb2,e6,Rac1,Ne7,h3,Nf5,Kh2,Nd6,Ba3,Nfe4,Nxe4,Nxe4,Nf3,Rfd8,Nd2,f5,Nxe4,dxe4,Qe2,Bf8,Bb2,c4,Rfd1,a5,Rd2,b5,Rcd1,Rd5,Kg1,Bd6,Rc1,h5,Rdd1,Kf7,Ba1,Be7,Bb2,Qc6,Kh2,Rd7,Kg1,Qd5,Ba1,h4,Rb1,Rdc7,bxc4,Rxc4,Rb3,b4,cxb4,axb4,Rbb1,Rc2,Qa6,Qxa2,Qf1,b3,d5,b2,dxe6+,Kxe6,Bxb2,Rxb2', 'Rxb2,Qxb2,Qa6+,Kf7,Qxc8', 'https://lichess.org/training/lGMUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGNRQ', 'Rapid', 'bigiggye', 1681, 'agrubi', 1784, 'c4,e5,g3,Nf6,Bg2,d5,cxd5,Nxd5,Nc3,c6,Nf3,Nd7,d3,Bd6,O-O,O-O,Bg5,N7f6,Nxd5,cxd5,Qb3,d4,Nd2,Rb8,Ne4,Be7,Rac1,h6,Nxf6+,Bxf6,Bxf6,Qxf6,Rc7,Qd6,Rfc1,Be6,Qc2,Bd5,Bxd5,Qxd5,Qa4,a6,R1c5,Qe6,Rd7', 'b5,Qc2,Qxd7', 'https://lichess.org/training/lGNRQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LgNy7', 'Rapid', 'Woodshedding', 1621, 'TOMGUARD', 1603, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Nf3,Bc5,d4,Bb6,Qe2,Qe7,Nc3,f5,Nxe4,fxe4,Ne5,d6', 'Qh5+,g6,Nxg6', 'https://lichess.org/training/LgNy7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lgPaw', 'Rapid', 'WinterWood', 1941, 'tresdepicas', 1848, 'd4,Nf6,c4,e5,dxe5,Ng4,e3,Nxe5,Nf3,Nbc6,Be2,Bd6,Nbd2,a6,a3,a5,b3,Qf6,Bb2', 'Nxf3+,Bxf3,Qxb2', 'https://lichess.org/training/lgPaw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGPkt', 'Rapid', 'antalvt', 1908, 'CycloneDakhla', 1940, 'e4,e5,Nf3,Nf6,Bc4,Be7,Nxe5,O-O,d3,c6,Bb3', 'Qa5+,Nc3,Qxe5', 'https://lichess.org/training/lGPkt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lgput', 'Rapid', 'Alphha', 2032, 'HW9', 2112, 'd4,Nf6,c4,c5,Nf3,cxd4,Nxd4,e5,Nb3,d5,cxd5,Qxd5,Qxd5,Nxd5,Bd2,Bb4,a3,Bxd2+,N1xd2,Nc6,e4,Nf6,Bb5,Bd7,Nc5,a6,Nxd7,Kxd7,Bxc6+,Kxc6,Rc1+,Kd7,O-O,Rac8,Rfd1,Rxc1,Rxc1,Rc8,Rxc8,Kxc8,f3,b5,Kf2,Kc7,Ke3,Kc6,b4,Nd7,g3,Nf8,Nb3,Ne6,f4,f6,h4,exf4+,gxf4,g5,fxg5,fxg5,hxg5,Nxg5,Nd4+,Kd6,Kf4', 'Ne6+,Ke3,Nxd4', 'https://lichess.org/training/lgput');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGpwd', 'Rapid', 'merlin1984', 1959, 'Broly15', 1972, 'd4,f5,Nf3,g6,Bf4,Nf6,h3,Bg7,e3,e6,c4,h6,Nc3,a6,Be2,d6,Qb3,Nc6,O-O,O-O,Bh2,Ne7,Rad1,g5,d5,e5,Qc2,f4,exf4,gxf4,Ne4,Kh8,Nxf6,Bxf6,Kh1,Rg8,Rg1,Bd7,g4,Qf8,Rg2,Qf7,Rdg1,Rg7,g5,hxg5,Nxg5,Bxg5,Rxg5,Rxg5,Rxg5,Rg8', 'Rh5+,Qxh5,Bxh5', 'https://lichess.org/training/lGpwd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGQPV', 'Rapid', 'topa5', 1811, 'stephenlu', 1833, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,a6,d3,b5,Bb3,d6,O-O,Nf6,Re1,Be7,e5,dxe5,Nxe5,Bb7,Bf4,O-O,Qf3,Ra7', 'Nxc6,Bxc6,Qxc6', 'https://lichess.org/training/lGQPV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lGU1y', 'Blitz', 'Dmitrii-v-ivanov', 2360, 'FM JustoTriana', 2447, 'd4,Nf6,Bf4,g6,Nf3,Bg7,h3,O-O,e3,d6,a4,c6,Nbd2,Nbd7,c4,Qa5,Bd3,e5,dxe5,Nxe5,Be2,Nfd7,Rb1,Nxf3+,Bxf3,Ne5,b4,Qc7,O-O,Qe7,Qb3,Bf5,Rbd1,Rad8,Be2,g5,Bh2,Ng6,Bf3,Nh4,e4,Be6,Bg4,Ng6,Bxe6,Qxe6,Rfe1,h6,Nf3,Be5,Bxe5,dxe5,Qc3,f6,Nh2,h5,Nf1,Ne7,Ne3,Kg7,a5,Kg6,Qc2,Rd4,Qe2,Rfd8,g4,hxg4,hxg4,Kf7,Kg2,Ng6,Kg1,Nf4,Qc2,Rh8,Nf5,Kg6,c5,Rh4,f3,Qd7,Rxd4,exd4,Rd1,d3,Qc3,Qh7,Nxh4+,Qxh4,Qe1,Qh3,Qf2', 'Ne2+,Qxe2,dxe2', 'https://lichess.org/training/lGU1y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LGXK5', 'Rapid', 'NotASmartKid', 1985, 'Schleimbeutel', 1947, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nb4,Qa4+,N8c6,d5,b5,cxb5,Nd4,Na3,e5,Bd2,Nxd5,Rc1,Bd7,Nc4,Bxb5,Qa5,Bd6', 'Nxd6+,cxd6,Bxb5+', 'https://lichess.org/training/LGXK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LGydz', 'Rapid', 'AlexanderNineteen', 1786, 'citytom', 1773, 'c4,Nf6,f4,e5,fxe5,Ne4,Nf3,d5,b3,Bg4,Nc3,Bxf3,exf3,Qh4+,Ke2,Qf2+,Kd3,Nc5+,Kc2,Nc6,Nxd5,O-O-O,Qe2', 'Nd4+,Kd1,Nxe2', 'https://lichess.org/training/LGydz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LGzAr', 'Rapid', 'Gersom', 1723, 'Waldinho', 1737, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nf3,Bc5,d3,Ng4,Be3,Nxe3,fxe3,Bxe3,Qe2,Bb6,Nc3,d6,O-O-O,Be6,Kb1,Qf6,h3,Nd4,Qd2,Nxf3,gxf3,Qxf3,Bg2,Qh5,Nd5,Bxd5,exd5,O-O-O,a4,a5,c4,f6,d4,Qe8,c5,dxc5,dxc5,Bxc5,Qxa5,Bb6,Qa8+,Kd7,Qxb7,Qg6+,Ka2,Qxg2,Qc6+,Kc8,Qa8+,Kd7,Qc6+,Ke7,Rhg1,Bxg1,Qxc7+,Rd7,d6+,Ke8,Re1+,Kf8,Qc8+,Kf7,Qxd7+,Kg6,Qg4+,Qxg4,hxg4,Bc5,d7,Kf7,Rc1,Be7,Rc8,Bd8', 'a5,Bxa5,Rxh8', 'https://lichess.org/training/LGzAr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lgzFm', 'Rapid', 'anscottie', 1941, 'everkite', 1862, 'd4,d5,c4,c6,e3,Bf5,Bd3,Bxd3,Qxd3,Nf6,Nc3,e6,Nf3,Bb4,O-O,O-O,a3,dxc4,Qxc4,Bxc3,Qxc3,Ne4,Qd3,Qd5,Rd1,Na6,b4,Rac8,Bb2,Nc7,Nd2,Nxd2,Rxd2,Nb5,Rad1,Rfd8,Qe2,Qg5,e4,Rd7,a4,Nc7,Bc1,Rcd8,Rd3,Qf6,Bb2,Qe7,Bc3,b5,a5,a6,Rg3,Ne8,Qg4,e5,d5,cxd5,exd5,Rxd5,Rxd5,Rxd5,h4,Rd6,Qc8,Kf8,Qc5,e4,Qh5,h6,Qg4,Rg6,Qf4,Rxg3,Qxg3,Qe6,Qe3,Nc7', 'Qc5+,Qe7,Bxg7+', 'https://lichess.org/training/lgzFm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LgzWS', 'Rapid', 'winnerindo', 2006, 'cemmm', 2061, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,e6,Nxc3,a6,Nf3,b5,Bb3,Bb7,O-O,Be7,Qe2,Qc7,Rd1,Nf6,e5,Nh5,Be3,g6,Rd2,O-O,Rad1,Rd8,Rc2,Nc6,Ne4,d5,exd6,Bxd6,Nxd6,Rxd6,Rxd6,Qxd6,Rd2,Qc7,Bh6,Rd8,Rxd8+,Qxd8,Ng5,Nd4,Qe5,Nxb3,g4,Qd5', 'Qb8+,Bc8,Qxc8+,Qd8,Qxd8#', 'https://lichess.org/training/LgzWS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LH1UZ', 'Rapid', 'Cheliaba', 1813, 'goldenboar', 1905, 'Nc3,d5,b3,d4,Ne4,Bf5,Ng3,Bg6,Bb2,e5,Nf3,Bd6,e3,dxe3,dxe3,f6,Qd5', 'Bb4+,Qd2,Bxd2+', 'https://lichess.org/training/LH1UZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lh5ZW', 'Rapid', 'taiou', 1984, 'spacecase124875', 2056, 'd4,d5,Nf3,Nc6,c4,Nf6,cxd5,Qxd5,Nc3,Qh5,e4,e6,Bb5,Bd7,d5,exd5,exd5,O-O-O,dxc6,Bxc6,Qe2,Bxb5,Qxb5,Bc5,O-O,a6,Qa5', 'Bxf2+,Rxf2,Qxa5', 'https://lichess.org/training/Lh5ZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lH68C', 'Classical', 'chandanpasaan', 1680, 'Abdussalam27', 1801, 'e4,e6,Nf3,d5,exd5,exd5,c3,Nf6,Be2,Bd6,h3,Bf5,Qa4+,c6,Nd4,Bg6,O-O,Nbd7,d3,O-O,Bg5,Nc5,Qd1,Re8,f4,h6,Bxf6,Qxf6,f5,Bh7,Bg4,Re3,Rf3,Rae8,Rxe3,Rxe3,Be2,Bxf5,Nxf5,Qxf5,b4,Nxd3,Bxd3,Rxd3,Qe2,Qg6,Nd2,Rxh3,Nf3,Qg4,Rf1,Bh2+,Kh1,Rh5,Qe8+,Kh7,Qxf7,Bf4+,Kg1,Be3+,Rf2,Bxf2+,Kxf2,Rf5,Qxb7,Qh4+,Ke2,Qc4+,Kf2,Qxa2+,Kg3,Qc4,Qd7,Qf4+,Kf2,Qd2+,Kg3,Qf4+,Kf2,Rf7,Qxc6,g5,Ke2,Re7+,Kd1,Qe4,Qf6,Qe2+,Kc1,Qf1+,Kc2,Qxg2+,Kb3,Rg7,Qf5+,Kh8,Qf8+,Rg8', 'Qxh6#', 'https://lichess.org/training/lH68C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lh6lB', 'Blitz', 'Rustam47', 1744, 'vladimir400', 1744, 'd4,d5,c4,Nf6,Nc3,Bf5,Nf3,Nc6,e3,e6,cxd5,Nxd5,Bb5,Bb4,Bxc6+,bxc6,O-O,O-O,e4,Nxc3,bxc3,Bxc3,Rb1,Bxe4,Rb3,Bxf3,Qxf3,Bxd4,Qxc6,Bb6,Bf4,Qe8,Qf3,Qa4,a3,Rad8,Qg3,Kh8,Be5,Rg8,Bxc7,Bxc7,Qxc7,Qxb3,Qxf7,Qxa3,Qxe6,Rd2,g3,Qa2,Qf5,a5,Rc1,Qb2,Rc8,Rgd8', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/Lh6lB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lH6PM', 'Rapid', 'esashank', 1634, 'Rahman_Hadista', 1612, 'c4,e5,Nc3,Nc6,g3,Bc5,Bg2,Nf6,d3,O-O,Nf3,d6,O-O,Be6,Bg5,h6,Bxf6,Qxf6,Ne4,Qe7,Nxc5,dxc5,Re1,f6,a3,Nd4,e3,Nc6,Qd2,Rad8,Qc3,Rd7,Rad1,Rfd8,Nh4,Qf7,Be4,Bg4,Bg6,Qe7,Nf5,Bxf5,Bxf5,Rd6,f4,Qf7,fxe5,fxe5,Rf1,Qh5,Be4,Qg5,Rf5,Qxe3+,Kg2,Re8,Bd5+,Kh7,Be4,Qe2+,Kh3,Qxd1', 'Rf1+,Kg8,Rxd1', 'https://lichess.org/training/lH6PM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lhaNK', 'Blitz', 'Junnix', 1883, 'gresaljesaldo', 2239, 'e4,e6,Nf3,c5,d4,c4,Bxc4,a6,O-O,b5,Bb3,Bb7,Re1,d6,Nc3,Nd7,d5,e5,Bd2,Ngf6,h3,Be7,a4,b4,Ne2,a5,Ng3,g6,c4,Nc5,Ba2,Rc8,Bb1,h5,b3,h4,Nf1,Nh5,N3h2,Bf6,Ne3,Nf4,Neg4,Bg7,Bxf4,exf4,e5,O-O,Ra2,dxe5,Nxe5,Qd6,Nhf3,Rce8,Rae2,Bc8,Nxf7,Kxf7,Ng5+,Kf6,Rxe8,Kxg5,Rxf8,Bxf8,Re8,Bd7,Ra8,Bg7,Rxa5,Qc7,Ra8,Be5,Rg8,Bf5,Qg4+,Bxg4', 'Rxg6+,Kh5,hxg4#', 'https://lichess.org/training/lhaNK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lhc0a', 'Classical', 'strategicomplexity', 2173, 'souhaibov', 2205, 'e4,e5,Bc4,c6,Nc3,Nf6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Nxe5,Bxb5,Nxb5,a6,Qe2,axb5', 'Nc6+,Qe7,Nxe7', 'https://lichess.org/training/lhc0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LHcCf', 'Rapid', 'kaktoos33', 1602, 'Stolix', 1625, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,d5,cxd5,exd5,Bg5,h6,Bxf6,gxf6,e3,Nc6,Qb3,Be6,Bb5,a6,Bd3,Na5,Qa4+,Nc6,Bxa6,Rxa6,Qb5,Rb6,Qa4,Bb4,O-O,Bxc3,bxc3,O-O,Nh4,Kg7,Rab1,Ra6,Qc2,Qc8,Qe2,Na5,Qh5,Kh7,Qg6+,Kh8,Qxh6+,Kg8,Ng6,Kf7', 'Qh7+,Ke8,Qe7#', 'https://lichess.org/training/LHcCf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lHcI0', 'Rapid', 'MayoCatto', 1783, 'Dodboy', 1724, 'd4,d5,c4,dxc4,e3,Nf6,Nf3,Bg4,Bxc4,Bxf3,Qxf3,e6,Qxb7,Nbd7,Bb5,a6,Bxd7+,Nxd7,Bd2,a5,Qf3,e5,O-O,Bd6,Nc3,Bb4,a3,Bxc3,bxc3,exd4,cxd4,O-O,Rfc1,Nf6,Rc5,a4,Bb4,Re8,Rac1,Ra7,h3,Ne4,Rf5,c5,dxc5,Nd2,Bxd2,Qxd2,Rd1,Qa2,Qc6,Raa8,Rd7', 'Qb1+,Kh2,Qxf5', 'https://lichess.org/training/lHcI0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LHcuB', 'Classical', 'kojetin', 1657, 'hakanclkrs', 1648, 'Nf3,Nf6,d4,d5,Nc3,e6,Bg5,h6,Bxf6,Qxf6,Qd3,Nc6,O-O-O,a6,e4,Qf4+,Kb1,dxe4,Nxe4,Be7,g3,Qf5,h4,Qa5,Qb3,Bd7,Nc3,Rb8,d5,Nb4,dxe6,Bxe6,Qa4+,Qxa4,Nxa4,Bxa2+,Kc1,Bd5,Be2,O-O,Rhe1,Bxf3,Bxf3,Bd6,Nb6,cxb6,Rxd6,b5,Re4,Nc6,Rd7,Rfd8,Rc7,f6,Rg4,g5,hxg5,fxg5,Bxc6,bxc6,Rxc6,Rf8,f4,Kh7,Rxa6,gxf4,Rxf4,Rxf4,gxf4,h5,Re6,Rg8,f5,h4,Kd2,h3,Re1,Kh6,Ke3', 'Re8+,Kd2,Rxe1', 'https://lichess.org/training/LHcuB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lHdeR', 'Bullet', 's3ReN1Ty', 1853, 'Einstein28', 1882, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Nf3,Nh5,Be2,Nf6,O-O,Bd6,Bg5,c6,h3,O-O,Re1,h6,Bh4,Nbd7,Bd3,Qc7,Ne2,Ne4,c3,g5,Qc1,gxh4,Qxh6,Ndf6,Qxh4,Bf5,Ng5,Bg6,Nxe4,dxe4,Qxf6,exd3,Ng3,Rae8,Nf5,Bxf5,Qxf5,Rxe1+,Rxe1,Qc8,Qg5+,Kh7,Re4,f5', 'Rh4#', 'https://lichess.org/training/lHdeR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LhE6L', 'Classical', 'flamboyanes', 1679, 'Mohitdwivedi', 1625, 'e4,e5,Nf3,Nc6,Bb5,Nf6,c3,Nxe4,O-O,Bc5,Bxc6,dxc6,d4,exd4,cxd4,Bb4,a3,Ba5,b4,Bb6,Re1,f5,Nc3,O-O,Nxe4,fxe4,Rxe4,Qf6,Rf4,Qd6,Rxf8+,Kxf8,Ng5,Kg8,Qh5,Bf5', 'Qf7+,Kh8,Qxf5', 'https://lichess.org/training/LhE6L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LHEJZ', 'Rapid', 'isa17', 1728, 'nasyrah-all', 1902, 'e4,e5,d3,h6,Nf3,Nc6,Nc3,Bc5,Be3,Bb6,Be2,Nf6,O-O,O-O,Qd2,Kh7,Nh4,d5,exd5,Nxd5,g3,Nxc3,bxc3,Bh3,Rfe1,Ne7,Qd1,Nd5,Qd2,Nxe3,fxe3,Qg5,d4,exd4,cxd4,Rad8,c3,c5,Nf3,Qf5', 'Bd3,Kg8,Bxf5', 'https://lichess.org/training/LHEJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lhGTy', 'Rapid', 'sssami', 1756, 'deltah', 1758, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d4,Bb4+,Nc3,Ne4,Bd2,Nxd2,Qxd2,Qe7,Nge2,Nd7,a3,Bxc3,bxc3,O-O,g3,Bxc4,Rb1,Nb6,Rb2,Rfe8,Bg2,c6,Bf3,a6,O-O,Bd5,Bxd5,Nxd5,Nf4,Nxf4,Qxf4,Ra7,Ra2,b5,Qf3,c5,dxc5,Qxc5,Rc1,h6,Raa1,Rae7,Qf4,Re6,c4,Rf6,Qd2,bxc4,Rc3,Rc8,Rac1,a5', 'Rxc4,Qxc4,Rxc4,Rxc4,Qd8+,Kh7,Qd3+', 'https://lichess.org/training/lhGTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LhHW8', 'Rapid', 'jrbba1953', 1694, 'namystt', 1701, 'Nf3,d6,c4,Nf6,e3,g6,Nc3,Bg7,d4,O-O,Be2,Nc6,O-O,e5,dxe5,dxe5,Qxd8,Rxd8,e4,Be6,Bg5,Na5,Nd5,Bxd5,cxd5,h6,Bd2,Nxe4,Bxa5,Rxd5,Bxc7,Rc8,Bc4,Rc5,Bd3,f5,Bxe4,fxe4,Bd6,Rd5,Bxe5,exf3,Bxg7,Kxg7,gxf3,Rc2,b3,Rg5+,Kh1,Rc3,Rad1,h5,Rd7+,Kh6,Rxb7,Rxf3,Rxa7,Rg4,Rb7,Rh3,a4,Rgh4,a5', 'Rxh2+,Kg1,Rh1+,Kg2,R4h2+,Kf3,Rxf1', 'https://lichess.org/training/LhHW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LHhXP', 'Rapid', 'StitchizZ', 2191, 'emreozatakan', 2112, 'e4,c5,Nc3,Nc6,Nf3,g6,Bb5,Bg7,d3,d6,Ne2,Bg4,Bxc6+,bxc6,Ng3,Qb6,c3,Nf6,h3,Bd7,Qe2,O-O,Be3,Rab8,Rb1,Be6,O-O,Bxa2,Ra1,Qxb2,Qxb2,Rxb2,Bc1,Rc2,Ne1,Rxc1,Rxc1,c4,d4,Ra8,Ra1,Bb3,Ra6,c5,dxc5,dxc5,Rc6,a5,Rxc5,a4,Nf3,Nd7,Rc7,Nb6,e5,Nd5,Rd7,Nxc3,Rxe7,a3,Nd4,a2,f4,a1=Q,Rxa1,Rxa1+,Kh2,Nd5,Re8+,Bf8,Ne4,Ba4,Rd8,Nxf4,Nf6+,Kg7,Kg3,Nh5+,Nxh5+,gxh5,Nf5+,Kg6,Nh4+,Kg7,Nf5+,Kg6,Nh4+,Kh6,Rxf8,c3,Nf5+,Kg5,Nd4,Rd1', 'Rg8+,Kh6,Nf5#', 'https://lichess.org/training/LHhXP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lhi4B', 'Rapid', 'JoachimGarbe', 1651, 'Raminmo2020', 1775, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,d5,Nxc6,bxc6,exd5,cxd5,Be3,Bb4,Qd2,Nf6,f3,Qa5,a3,Bxc3,bxc3,O-O,Bd3,Bd7,O-O,Rab8,Bd4,Qd8,Qg5,a5,a4,Qe7,Bxf6,Qxf6,Qxf6,gxf6,f4,f5,c4,dxc4,Bxc4,Rb4,Bb3,Bc6,Rf2,Be4,Rd1,Rc8,Rfd2,Kg7,Rd4,Rxd4,Rxd4,Bxc2,Bxc2,Rxc2,h4,Rc5,Kf2,h5,g3,f6,Ke3,e5,fxe5,fxe5,Rd7+,Kf6,Rd6+,Ke7,Rh6,Rc4,Rxh5,f4+,gxf4,exf4+,Kf3,Rxa4,Rf5,Ke6,Rxf4', 'Rxf4+,Kxf4,a4,Ke3,a3', 'https://lichess.org/training/Lhi4B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LhJ4G', 'Rapid', 'onkar31388', 1852, 'Dennis1000', 1691, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe5+,Ke7,d3,Nf6,Nc3,d6,Nc4,Nc6,O-O,Be6,Ne4,Nxe4,dxe4,g6', 'Bg5+,Kd7,Bxd8', 'https://lichess.org/training/LhJ4G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lHjne', 'Rapid', 'Antei97', 1672, 'NotSlimShady6588', 1638, 'd4,f5,c4,Nf6,Nc3,d5,Bf4,Nc6,e3,e6,Bd3,Bb4,Qc2,Qe7,a3,Bd6,Bxd6,Qxd6,c5,Qe7,Nge2,Bd7,Nf4,O-O-O,b4,e5,Nfxd5,Nxd5,Nxd5,Qg5,dxe5', 'Qxg2,O-O-O,Qxd5', 'https://lichess.org/training/lHjne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lhjyz', 'Rapid', 'Chessian', 1870, 'Alex_litl', 1887, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,d6,d4,g5,h4,Bg4,Bxf7+,Kd7,c3,Qe7,d5,Ne5,Be6+,Bxe6,dxe6+,Qxe6,Nxe5+,Qxe5,hxg5,Qxg5,Qf3,Bh6,Rh5,Qf6,Rf5,Qh4+,Ke2,Ne7,Rh5,Qf6,Bd2,Raf8,Be1,Ng6,Nd2,Bg5,Bf2,Ne5,Qh3+,Kd8,Rxh7,Rxh7,Qxh7,f3+,gxf3,Nxf3,Nc4,d5,Ne3,Nd4+,Kd3,Qxf2,Kxd4,Qxe3+,Kxd5,c6+,Kc4,b5+,Kb3,a5', 'Rd1+,Kc8,Qd7+,Kb8,Qd6+,Kb7,Qxf8', 'https://lichess.org/training/lhjyz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lHK2y', 'Rapid', 'Hector4657', 1878, 'Mehmin', 1841, 'e4,e5,Nc3,d6,Bc4,Be6,Bxe6,fxe6,Nf3,Nf6,O-O,g6,d4,exd4,Nxd4,e5,Bg5,Bg7,Nde2,O-O,f4,exf4,Bxf4,Nbd7,Ng3,Qb8,Qd2,b5,Bh6,Qb6+,Kh1,Rae8,Nd5,Nxd5,Qxd5+,Kh8,Bxg7+,Kxg7,Rae1,Nf6,Qd3,Re7,h3,Ref7,e5,dxe5,Rxe5,a6,Rg5,Qe6,Nf5+,Kg8', 'Nh6+,Kg7,Nxf7', 'https://lichess.org/training/lHK2y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LHl7N', 'Rapid', 'maxim61', 1731, 'DarthNick', 2174, 'g3,e5,Bg2,Nf6,d3,Nc6,c4,d6,Nc3,Be7,Nf3,Bd7,O-O,O-O,e4,a6,a3,Rb8,Bg5,Nd4,Bxf6,Bxf6,Nxd4,exd4,Nd5,b5,Nxf6+,Qxf6,cxb5,Rxb5,b4,c5,bxc5,dxc5,a4,Rb4,Qc2,Rc8,a5,c4,dxc4,Rbxc4,Qd2,Bb5,Rfd1,Ba4,Rdc1,d3,Rxc4', 'Qxa1+,Bf1,Rxc4', 'https://lichess.org/training/LHl7N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LHlOZ', 'Rapid', 'romeooo', 1820, 'D0NB4N3', 1837, 'd4,Nf6,c4,e6,Nc3,Bb4,g3,O-O,Bg2,a5,Bg5,Be7,e4,Ne8,Bxe7,Qxe7,e5,Qb4,Ne2,Qxc4,O-O,Ra6,f4,c5,b3,Qb4,a3,Qb6,Na4,Qc7,Rc1,b6,dxc5,b5,Nb6,Rxb6,cxb6,Qxb6+,Qd4,Qa6,b4,Nc6,Bxc6,dxc6,Rc5,Nc7,Qd6,axb4,Qxc7,Qxa3,Qxc6,Qe3+,Rf2,b3,Qxc8,b2,Qxf8+,Kxf8,Rxb5,Qc1+,Nxc1,bxc1=Q+,Rf1,Qe3+,Rf2,g6,Kg2,h5,Rbb2,Qe4+,Kf1,Kg7,Rbe2', 'Qh1#', 'https://lichess.org/training/LHlOZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lhNHp', 'Blitz', 'FM Din-don-dan', 2328, 'OECA', 2190, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,Bg5,Be7,Re1,Be6,Qf3,c6,Rxe6,fxe6,Qh3,Qd6,Bxf6,Bxf6,Qxh7+,Kf7,Qg6+,Ke7,Re1,e5,Bf5,e4,Nxe4,dxe4,Rxe4+,Kd8,Qg4,Kc7,g3,Rae8,Ra4,Re1+,Kg2,a5,Rxa5,Kb6,Qa4,Bd4,Ra6+,Kb7,Ra5,Re2,Qb3+,Bb6,Be4,Rfxf2+,Kh3,Qh6+,Kg4,Qe6+', 'Qxe6,Rxe4+,Qxe4', 'https://lichess.org/training/lhNHp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LHQHs', 'Rapid', 'cabbada', 1945, 'dont_mind_if_ido', 1611, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,d6,Nxd4,Nxd4,Qxd4,b6,e5,Nh5,exd6,Bxd6,Re1+,Be6,Bxe6', 'Bxh2+,Kxh2,Qxd4', 'https://lichess.org/training/LHQHs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LHQNI', 'Blitz', 'vladislavj28h', 1573, 'spd007', 1577, 'd4,d5,Nc3,Nf6,g3,Bf5,Bg2,c6,Bf4,Nbd7,Nf3,Nh5,Be3,Ndf6,Nh4,Qd7,Nxf5,Qxf5,f3,Qe6,O-O,Qxe3+,Kh1,g6,Qe1,Bg7,Nd1,Qxd4,c3,Qb6,b4,O-O,a4,Rfe8,Qd2,e5,g4,Nxg4,fxg4,Nf4,Bf3,Qc7,e3,Nh3,e4,dxe4,Bxe4,Nf4,b5,Rad8,Qe3,Nd5,Bxd5,cxd5,Qxa7,Qxc3,Nxc3,e4,Qxb7,Bxc3,Qxf7+,Kh8,Rac1,Bg7,Rc7,Rg8,b6,Rdf8,Qxd5,Rxf1+,Kg2,Rgf8,Rxg7,Kxg7,b7,R1f2+,Kh3', 'R8f3+,Kh4,Rxh2+,Kg5,h6#', 'https://lichess.org/training/LHQNI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LHQw6', 'Rapid', 'pitagorasdoc1', 1969, 'CarlosBarreto', 1931, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bxd4,Bxd4,Nxd4,Qxd4,Nf6,e5,Qe7,Bd3,c5,Qc3,Nd5,Qc4,Qxe5+,Be2,Nf4,Nc3,Nxe2,Nxe2,O-O,O-O,d5,Qd3,Bf5,Qd2,d4,Ng3,Bg6,Rae1,Qc7,h4,h6,h5,Bh7,Ne4,Rfe8,Ng3,Re7,Rxe7,Qxe7,Re1,Qg5,Qa5,b6,Qb5,Bxc2,Re8+,Rxe8,Qxe8+,Kh7,Qxf7,d3,Qc4,b5,Qe4+,Kh8,Qe8+,Kh7,Qe4+,g6,Qb7+,Kg8,Qc8+,Kf7,hxg6+,Kxg6', 'Qg8+,Kf6,Ne4+', 'https://lichess.org/training/LHQw6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lhR0u', 'Blitz', 'JUGO-BOSS', 2252, 'marek0', 2251, 'd4,Nf6,Bf4,e6,e3,d5,c3,c5,Nd2,Bd6,Bg3,Nc6,Ngf3,Bxg3,hxg3,h6,Bd3,Qd6,Qe2,e5,e4,cxd4,cxd4,O-O,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qc7,e5,Re8,O-O,Ng4,Rfe1,f6,Rac1,Qb6,Bg6,Re7,Qc2,Bd7,exf6,Rxe1+,Rxe1,Qxf6,Bh7+,Kh8,Bd3,Rc8', 'Qxc8+,Bxc8,Re8+,Qf8,Rxf8#', 'https://lichess.org/training/lhR0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LHRV6', 'Blitz', 'Costa23', 1769, 'Viktor_Volkov', 2016, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Be2,O-O,Nf3,c6,h3,Nbd7,O-O,Re8,a3,Ne4,Bd2,Nf8,Nh2,f5,Nxe4,dxe4,Bc4+,Kh8,f3,Qxd4+,Kh1,Qxc4,fxe4,fxe4,Bc3,Ng6,Qh5,Bd6,Ng4,Bxg4,Qxg4,Be5,Bd2,Rad8,Be3,Bf6,c3,Ne5,Qf5,Nd3,Rab1,Rd5,Qg4,Nxb2,Rxf6,gxf6,Rxb2,Qxc3,Rxb7,Rg8,Qf4,Rd1+,Kh2,Qa1', 'Rxh7+,Kxh7,Qh6#', 'https://lichess.org/training/LHRV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LhsS3', 'Rapid', 'Ramon1961', 1736, 'Simon69', 1942, 'e4,c5,Nf3,Nc6,c3,g6,Bc4,Bg7,O-O,Nf6,Re1,d6,h3,O-O,Bb3,a6,d3,b5,Bg5,Bd7,Nbd2,a5,a3,b4,Qc1,bxa3,bxa3,Rb8,Rb1,Qc7,d4,cxd4,cxd4,Qa7,Be3,Qa8,Bg5,Rfc8,Qd1,Na7,e5,dxe5,dxe5,Nd5,Ne4,Be6,Qd2,Nc6', 'Bxd5,Bxd5,Qxd5,Rxb1,Rxb1', 'https://lichess.org/training/LhsS3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lHvVj', 'Rapid', 'pritsapidoulas', 2075, 'CamelClutcher', 2261, 'b3,d5,Bb2,Bg4,f3,Bh5,e3,Nf6,Ne2,Nbd7,Nf4,Bg6,d4,e6,Bd3,Bd6,Nxg6,hxg6,f4,Ne4,Qf3,Qh4+,Ke2,Ng3+,hxg3,Qxh1,Nc3,Qh5,g4,Qh4,Nb5,Qe7,c4,c6,Nxd6+,Qxd6,a4,Qb4,cxd5,exd5,Ba3,Qxb3,e4,O-O-O,e5,Nb6', 'Bf5+,gxf5,Qxb3', 'https://lichess.org/training/lHvVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LhW29', 'Blitz', 'ChulucanasBoy', 2417, 'ElPotro2020', 2485, 'e4,c5,Nf3,d6,d3,g6,g3,Bg7,Bg2,Nc6,c3,Bg4,h3,Bxf3,Qxf3,e6,O-O,Nge7,Bg5,O-O,Bf6,Bxf6,Qxf6,Nc8,Qf3,Rb8,Nd2,b5,Qe3,b4,f4,N8e7,g4,bxc3,bxc3,Qa5,Rfc1,Rb2,Nc4,Qb5,a4,Qb8,Nxb2,Qxb2,Rab1,Qa3,Ra1,Qb3,Rab1,Qxa4,e5,dxe5,Qxc5,Rc8,fxe5,h5,gxh5,gxh5,Bxc6,Nxc6,Qe3,Qa5,d4,Qd5,Rb2,Ne7,Rg2+,Ng6,Rf1,Rc7,Qh6,Qe4,Kh2,Rxc3,Rfg1', 'Rxh3+,Kxh3,Qh4#', 'https://lichess.org/training/LhW29');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LHwGK', 'Rapid', 'JTSAE', 1804, 'tucopablo', 1775, 'b3,d5,Bb2,c5,e3,Nc6,Nf3,Bg4,Bb5,a6,Bxc6+,bxc6,h3,Bh5,g4,Bg6,Ne5,Qc7,d3,Nf6,f4,h6,Nxg6,fxg6,g5,hxg5,fxg5,Qg3+,Kd2,Rxh3,Rxh3,Qxh3,gxf6,gxf6,Kc1,Bh6,Bc3,Bxe3+,Bd2,Bd4,c3,Be5,Qe2,a5,a4,Kf7,Kb2,Rb8,Na3,Kf8,Nc2,Qh4,Ne3,d4,Nc4,dxc3+,Bxc3', 'Bxc3+,Kxc3,Qd4+,Kc2,Qxa1', 'https://lichess.org/training/LHwGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lHWRu', 'Rapid', 'Abic108', 1640, 'fdcarlosd1', 1634, 'd4,d5,Nf3,e6,Bf4,Qf6,e3,Be7,Be5,Qg6,g3,c6,Bd3,Qh6,Nbd2,f6,Bxb8,Rxb8,c3,f5,Qc2,Nf6,O-O-O,b5,Ne5,Bb7,Rde1,Bd6,f3,Bxe5,dxe5,Nd7,e4,dxe4,fxe4,Nxe5,exf5,Nxd3+,Qxd3,O-O,Rxe6,Qg5,Rf1,Rbd8,Rd6,Rxd6,Qxd6,Rxf5,Rxf5,Qxf5,Qd8+,Qf8,Qc7,Qf7', 'Qb8+,Qf8,Qxb7', 'https://lichess.org/training/lHWRu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lhxq0', 'Rapid', 'kinin', 2114, 'drfraude', 2141, 'e4,g6,d4,Bg7,c4,c5,dxc5,Qa5+,Bd2,Qxc5,Bc3,e5,Nf3,Nc6,Be2,Nge7,O-O,O-O,Na3,a6,Nc2,d6,b4,Qb6,a4,Bg4,Qd2,f5,Ng5,Bxe2,Qxe2,Nd4,Bxd4,exd4,Rad1,Rfc8,Ne6,Be5,Nexd4,fxe4,Qxe4,Rxc4,f4,Bxd4+,Nxd4,d5,Qxe7,Rxd4,Kh1,Rxd1,Rxd1,Rd8,h4,Qd6,Qg5,Kf7,f5,gxf5,Qxf5+,Kg7,Qg5+,Kh8,Rf1,Rg8,Qe3,d4,Qd2,Rg4,Qe1,Qd8', 'Qe5+,Rg7,Rf7,Qxh4+,Kg1,Qe1+,Qxe1', 'https://lichess.org/training/lhxq0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LhYkI', 'Blitz', 'win_21', 1635, 'yonek', 1645, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Nc3,d6,O-O,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,O-O,Bg5,h6,Bh4,g5,Bg3,Nh7,Nb5,Nxb5,Bxb5,c6,Bc4,d5,exd5,cxd5,Bb3,f6,Qh5,Kg7,c4,d4,Rae1,Bb4,Re4,Qe8,Qf3,Qg6,a3,Bd2,Re2,Bf4,Bxf4,gxf4,Qxb7+,Kh8,c5,Rg8,Bxg8,Rxg8,f3,Ng5,Kh2,Nxh3,gxh3', 'Qg3+,Kh1,Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/LhYkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LhZUd', 'Rapid', 'Pyrig_Roman', 2310, 'FM Al_Shima', 2445, 'Nf3,Nf6,g3,b5,Bg2,Bb7,O-O,e6,b3,Be7,Bb2,O-O,d3,d5,Nbd2,c5,c4,b4,Ne5,Nc6,Nxc6,Bxc6,Nf3,d4,a3,a5,a4,Nd7,Nd2,Bxg2,Kxg2,e5,e4,Bg5,Bc1,Bxd2,Bxd2,f5,f3,g5,g4,f4,h3,h5,Be1,Ra6,Rh1,Rh6,Bf2,Kf7,Qe2,Rfh8,Rag1,R8h7,Be1,Qh8,Qf1,Nf8,Bf2,Ng6,Be1,hxg4,hxg4', 'Rh2+,Rxh2,Rxh2#', 'https://lichess.org/training/LhZUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Li00O', 'Classical', 'SuAlAn', 1725, 'terabot', 1931, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Nf6,Re1,Be7,d4,exd4,Nxd4,O-O,Qf3,a6,a4,c5,Nf5,Bxf5,Qxf5,Qd7,Bxh6,gxh6,Qg6+,Kh8,Qxh6+,Nh7,Bd3,Qe6,Qh5,Qe5,Qh6,Nd7,f4,Qg7,Qh3,Nf6,e5,Ng4', 'Bxh7,Qxh7,Qxg4', 'https://lichess.org/training/Li00O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lI1kC', 'Rapid', 'taxpayee', 1617, 'daimms', 1616, 'e4,c6,e5,f6,exf6,Nxf6,d4,d5,h3,Bf5,Nf3,e6,Ne5,Nbd7,Bg5,Nxe5,dxe5,h6,Bd2,Ne4,Qh5+,g6,Qe2,Qb6,b3,Bc5,Be3,Qb4+,c3,Nxc3,Bd2,Nxe2,Bxb4,Bxb4+,Kxe2,O-O-O,a3,Bc5,Nc3,d4,Na4,d3+,Kd2,Bxf2,Rc1,Rd5,Nc3,Rd7,g4,Bxg4,hxg4,g5,Nb5,Kb8,Nc3,Bd4,Ne4,Bxe5,Nc5,Rd6,Ne4,Rd4,Nf2,Bf4+,Kc3,d2,Rd1,Rd6,Ne4,Rdd8,Bd3,Be5+,Kxd2,a6,b4,Rh7,Nc5,Bf4+,Ke2,Re7,Rxh6,Bd6,Nxe6,Rde8,Bf5,Ka7,Rxd6,Kb6,Kf3,Kb5,Nd4+,Ka4,Bc2+,Kxa3,Ne6,Kxb4,Rd5,Rxe6,Rd4+', 'Kc3,Rxe6,Rxe6,Rd7,Kxc2', 'https://lichess.org/training/lI1kC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lI3H4', 'Rapid', 'brmchess', 1914, 'ali20290', 1749, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,g6,O-O,Bg7,c3,Nge7,d4,O-O,d5,Na7,d6,cxd6,Qxd6,Nac6,Bg5,f6,Be3,b5,Bb3+,Kh8,Bc5,a5,Rd1,Ra6,Bd5,Nd4', 'Qxe7,Qxe7,Bxe7', 'https://lichess.org/training/lI3H4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LI5oK', 'Rapid', 'geracimov', 1921, 'carlos_5', 1897, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be2,h5,Nc3,Qd6,O-O,Ng4,Bf3', 'Qxh2#', 'https://lichess.org/training/LI5oK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LI69O', 'Rapid', 'Drahmet1992', 1854, 'Bishnupada_12', 1841, 'd4,f5,c4,Nf6,Nc3,g6,Bg5,Bg7,e3,O-O,Nf3,h6,Bxf6,exf6,Qb3,Kh7,Bd3,d6,Nh4,Nc6,O-O,Na5,Qc2,Re8,Nxf5,gxf5,Bxf5+,Bxf5,Qxf5+,Kh8,Qxa5,b6,Qf5,c5,d5,Re5,Qg6,Rg5,Qf7,Qc8,Ne4,Qg4,Nxg5,fxg5,Rae1,Bxb2,f3,Qxc4,f4,gxf4,exf4,Bg7,Re7', 'Bd4+,Rf2,Qc1+,Re1,Qxe1#', 'https://lichess.org/training/LI69O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('li9ua', 'Blitz', 'pgstar3', 2131, 'Scorpion_Master', 2034, 'e4,c5,c3,e6,d4,cxd4,cxd4,d5,e5,Ne7,Bd3,Ng6,Nf3,Bb4+,Nc3,Nc6,a3,Be7,Kf1,O-O,Kg1,f6,h4,fxe5,Bxg6,hxg6,dxe5,Rxf3,gxf3,Nxe5,h5,Qf8,Rh3,gxh5,Rxh5,Nxf3+,Kg2,Nh4+,Kf1,g6,Rh6,e5,Qxd5+,Kg7,Qxe5+,Bf6,Qc7+,Be7,Nd5,Bh3+,Kg1,Re8,Qe5+,Bf6,Qxf6+,Qxf6,Nxf6', 'Nf3+,Kh1,Re1#', 'https://lichess.org/training/li9ua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lI9XM', 'Rapid', 'Rasteeeira', 1794, 'loky1705', 1735, 'c4,d6,g3,Bf5,Bg2,c6,e3,Nf6,Ne2,e5,O-O,Qc7,d4,Be7,Nbc3,Nbd7,d5,cxd5,Nxd5,Nxd5,Bxd5,O-O,b3,Nf6,Bg2,Rad8,Bb2,Qd7,Qd2,Bh3,Rfd1,Bxg2,Kxg2,Qc6+,Kg1,d5,Bxe5,dxc4,Nd4,Qc5,Bxf6,Bxf6,Rac1,c3,Qxc3,Qxc3,Rxc3,Rc8,Rdc1,Rxc3,Rxc3,Bxd4,exd4,Rd8,Rd3,g6,f4,h5,Kf2,Kg7,Kf3,Kf6,Ke4,a6,a4,b6,Rc3,Re8+,Kd3,Re6,d5,Rd6,Kd4,Ke7,Rc7+,Ke8,Ke5,Rd7,d6,Kd8,Rc6,b5,Rxa6,bxa4,bxa4,Rb7,Ra8+,Kd7,Rf8,Kc6,Re8,Rd7,Kf6,Kxd6,Re4,Rc7,Rd4+,Kc5,Re4,Kd6,Re1,Rc2,Kxf7,Rxh2,Kxg6,Rh3,Re3,h4,Rd3+,Kc6,Kg5,hxg3,Kg4', 'g2,Rxh3,g1=Q+', 'https://lichess.org/training/lI9XM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('liaSB', 'Rapid', 'runningthoughts', 2057, 'ufrason2006', 1929, 'e4,c5,f4,Nc6,Bc4,e6,Nc3,Nge7,Nf3,d5,Bf1,dxe4,Nxe4,Nf5,c3,b6,Bc4,Bb7,Qe2,Be7,O-O,Qc7,d3,O-O-O,Neg5,Bxg5,Nxg5,Na5,Nxe6,fxe6', 'Bxe6+,Kb8,Bxf5', 'https://lichess.org/training/liaSB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('libAu', 'Rapid', 'm__--8', 1903, 'celalkoc7', 1904, 'e4,g6,f4,Bg7,d4,d6,Bd3,b6,Nf3,Bb7,O-O,Nd7,f5,Ngf6,Nc3,O-O,Qe1,a6,fxg6,fxg6,Ng5,Qc8,Qh4,h5,e5,dxe5,Bxg6,exd4,Ne2,c5,Bd2,Qc6,Nf4,Ne5,Bxh5,Nxh5,Qxh5,Rxf4', 'Qh7+,Kf8,Rxf4+', 'https://lichess.org/training/libAu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LiCLf', 'Bullet', 'vu_nam2608', 1687, 'S3zki', 1574, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,b3,Nc6,Bc4,Qh5,h3,Ne5,Nxe5,Bxd1', 'Bxf7+,Qxf7,Nxf7,Kxf7,Kxd1', 'https://lichess.org/training/LiCLf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LIcr4', 'Rapid', 'SamDooley', 1969, 'porovos', 1971, 'Nf3,d5,g3,g6,Bg2,Bg7,O-O,c6,d4,Nf6,c4,e6,Nc3,O-O,c5,Nbd7,Bf4,b6,Ne5,bxc5,Nxc6,Qb6,Ne7+,Kh8,Na4,Qb5,dxc5,Nxc5,Nxc5,Qxc5,Nxc8,Rfxc8,Be5,Kg8,Rc1,Qa5,Rxc8+,Rxc8,Qb3,Qa6,e3,Qc6,Bc3,Nd7,Bxg7,Kxg7,Qa3,Qc5,Qa4,Ne5,b4,Qc7,b5,Qb6,Rd1,Rc4,Qb3,Qc5,Qb2,f6,a3,Rc2,Qb4,Qb6,Qe7+,Nf7,a4,Rc7,Qa3,Rc4,Bf1,Rc2,Bd3,Rc7,a5,Qb7,Qb4,Ne5,Be2,Rc2,Rd2,Rc1+,Kg2,d4+,f3,dxe3,Rb2,g5,Qd4,g4,Qxe3,gxf3+,Bxf3,Nxf3,Qxf3', 'Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/LIcr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LiDAh', 'Rapid', 'Badrunxemal1212', 1814, 'Al-08', 1654, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nb4,O-O,c6,d4,Nxc2,dxe5,Nxa1,Qg4+,Kf7,Qf4+,Kg8,Rd1,Be6,Nxd5,cxd5,Be3,Nc2,Bb3,Nxe3,Qxe3,a5,h3,b5,f4,a4,Bc2,Rc8,Bd3,d4,Qe4,Bxa2,Bxb5,Bb3,Rxd4,Rc1+,Kh2,Qb8,Bxa4,Bxa4,Rxa4,Qb6', 'Qd5+,Qe6,Qxe6#', 'https://lichess.org/training/LiDAh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lie9f', 'Blitz', 'linuspeanut', 1904, 'qemacht', 2022, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Nc3,Nf6,Be2,e6,O-O,Nbd7,Bg5,Be7,h3,Bh5,Re1,O-O,Qd3,Rc8,Bf1,a6,a4,Nb6,Ne2,Bg6,Qb3,Bxc2,Qe3,Nc4,Qc3,Ne5,Qe3,Ng6,Nc3,h6,Bh4,Nxh4,Nxh4,Ne4,Nf3,Bb4,Rec1,Bb3', 'Nxe4,Rxc1,Rxc1,dxe4,Qxb3', 'https://lichess.org/training/Lie9f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lIELa', 'Rapid', 'McDermott', 1700, 'NorthPaul', 1623, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,Nge7,Be3,a6,Be2,b5,O-O,Bb7,Nxc6,Nxc6,a3,Be7,b4,O-O,Bf3,Ne5,Be2,Rc8,Qd2,Bf6,Rac1,Nc4,Bxc4,Rxc4,Ne2,Rxe4,f3,Rc4,Bd4,e5,Bc5,Re8,Ng3,d5,Nf5,Re6,Rfd1,Rc6,Qxd5,Qc8,Ne7+,Bxe7,Bxe7,h6,Qxe5', 'Re6,Qg3,Rxe7', 'https://lichess.org/training/lIELa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LiFbC', 'Blitz', 'AlainS', 2061, 'Yoram17', 2119, 'd4,d5,Nf3,e6,Bf4,Nf6,e3,Be7,c3,O-O,Bd3,Nh5,h4,Nxf4,exf4,c5,Ne5,f6,g4,fxe5,fxe5,cxd4,g5,dxc3,Bxh7+,Kxh7', 'Qh5+,Kg8,g6,Rf5,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/LiFbC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('liFJf', 'Blitz', 'Tomberg_Dmitry', 2368, 'darkBrater', 2237, 'd4,Nf6,Nf3,d5,Bf4,c5,e3,Nc6,c3,Qb6,Qb3,c4,Qxb6,axb6,Nbd2,b5,h3,b4,g4,e6,Kd1,Be7,Kc2,O-O,Bg2,Bd7,Ne5,Nxe5,Bxe5,Bc6,Rhb1,Nd7,Bg3,b5,e4,Ra6,exd5,Bxd5,Bxd5,exd5,Re1,Bf6,Nf3,Rfa8,g5,b3+,Kd2,Rxa2,Rab1,Bd8,Re8+,Nf8,Ke2,Bb6,Rxa8,Rxa8,Bd6,Ne6,Kd2,Bc7,Bxc7,Nxc7,Re1,Ne6,Re5,Ra2,Rxd5,Rxb2+,Ke3,Rc2,Rxb5,Rxc3+,Ke4,g6,Ne5,Nxg5+,Kd5,Ne6,Rb8+,Kg7,Nxc4,Nc7+,Kd6,Rxc4,Rxb3,Ne6,d5,Nf4,Ke5,g5,d6,Ne6,Rd3,Rf4,d7,Rxf2,d8=Q,Nxd8,Rxd8,Rf3,h4,g4,Ke4,h5,Rd5,Kg6,Rg5+,Kh6,Rc5,Rh3,Rc7,Kg6,Kf4,Rxh4,Rc6+,f6,Rc8,Rh3,Rg8+,Kf7,Rh8,Rf3+,Ke4,Kg6,Rg8+,Kh6,Kd4,f5,Ke5,h4,Kf6,Kh7,Rg7+,Kh8,Ra7,g3', 'Kg6,Re3,Ra8+,Re8,Rxe8#', 'https://lichess.org/training/liFJf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Liggk', 'Blitz', 'FM Betonschach1', 2345, 'dontcallmeIsmael', 2088, 'Nf3,c5,c4,Nc6,g3,e5,Bg2,d6,d3,f5,Nc3,Nf6,e4,fxe4,dxe4,Bg4,O-O,Nd4,Be3,Be7,Bxd4,cxd4,Nd5,Nxd5,cxd5,O-O,h3,Bxf3,Bxf3,Qd7,Bg4,Qb5,Qd2,h6,Rac1,Bg5,f4,exf4,gxf4,Bf6,Rc7,d3,b3', 'Qb6+,Kh2,Qxc7', 'https://lichess.org/training/Liggk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LIgK0', 'Blitz', 'Odessa_N_K', 1872, 'Misgar', 2066, 'e4,c5,f4,e6,Nc3,Qc7,Nf3,a6,a4,d6,Bc4,Nf6,O-O,b6,e5,d5,exf6,dxc4,fxg7,Bxg7,d3,Bb7,Be3,Nc6,Qe1,Rd8,dxc4,Nd4,Bxd4,cxd4,Ne2,Qxc4,c3,d3,Ned4,Bxd4+,Nxd4,Rg8,Rf2,Rxd4,cxd4,Qxd4,Kh1,Bd5,Rc1,Kd7,Rd2,Be4,Qf2,Qd5,Rg1,Qc6,Qd4+,Ke7,Rxd3', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/LIgK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lIHDc', 'Rapid', 'drevallejos', 1691, 'Altheus', 1705, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,O-O,a6,Bc4,e6,Nxc6,Bxc6,Nc3,Nf6,e5,dxe5,Qe2,Bd6,Rd1,Qc7,Bg5,Nd5,Ne4,f6,Bxf6,Nxf6,Nxd6+,Ke7,Qxe5,Kf8,Qxe6,Qe7,Qf5,Rd8,Qf4,g5,Qg3,Ne4,Qf3+,Nf6,Bd5,Qxd6', 'Bxc6,Qxd1+,Rxd1', 'https://lichess.org/training/lIHDc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lihDN', 'Rapid', 'Deni_12', 1746, 'Roman_RS', 1987, 'e4,c5,Nc3,Nc6,Nf3,g6,Bc4,Bg7,d3,d6,Bd2,Nf6,h3,O-O,O-O,a6,a4,Bd7,Nd5,Nxd5,Bxd5,Qc7,Rb1,e6,Ba2,a5,Qc1,Nb4,Bb3,b5,axb5,Bxb5,Bh6,a4,Bc4,Bxc4,dxc4,Bxh6,Qxh6,Nxc2,Ng5,f5,Nxe6,Qf7,Nxf8,Rxf8,exf5,Qxf5,Rbc1,Nd4,Qe3,Kf7,Qa3,Ne2+,Kh1,Nxc1,Rxc1,Qxf2,Qxa4,Ke6,b4,Qd2,Rb1,cxb4,Qxb4', 'Rf1+,Rxf1,Qxb4', 'https://lichess.org/training/lihDN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LIHmT', 'Rapid', 'boxboy123', 1955, 'Ladee', 2107, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,c3,d6,h3,Na5,Bc2,c5,d4,Nc6,dxe5,dxe5,Bg5,h6,Bh4,Be6,Bg3,Qc7,Qe2,Rad8,Na3,b4,Nc4,Nd7,Rad1,a5,Ba4,f6,cxb4,axb4,b3,Nb6,Nxb6,Qxb6,Nd2,Nd4,Qd3,Nf5,Qb5,Qxb5,Bxb5,Nd4,Bc4,Bxc4,Nxc4,Ra8,Rd2,Ra6,Ra1', 'Nxb3,axb3,Rxa1+', 'https://lichess.org/training/LIHmT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LiIpb', 'Rapid', 'mariodoc', 1804, 'manipulador', 1781, 'e4,c5,Nc3,Nc6,Bb5,Nd4,f4,a6,Be2,b5,Nf3,Nxf3+,Bxf3,Bb7,O-O,Nf6,d3,e6,Ne2,Be7,Ng3,O-O,f5,Qb6,Kh1,Rad8,Nh5,exf5,exf5,d5,Qe1,Rfe8,Qg3,Nxh5,Bxh5,Bf6,c3,d4,Bd2,Qc6,Bf3,Qb6,Rae1,Bc8,Bf4,dxc3,Bc7,Rxe1', 'Rxe1,Qxc7,Qxc7', 'https://lichess.org/training/LiIpb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('liITt', 'Rapid', 'Abschalom', 2018, 'sipahi', 1899, 'e4,e5,f4,d6,Nf3,Bg4,d3,Nc6,Be2,Qf6,f5,Bxf3,Bxf3,O-O-O,Nc3,Nd4,O-O,h6,Ne2,Nxe2+,Qxe2,Qe7,Be3,Kb8,c3,Nf6,d4,Nd7,d5,Nc5,b4,Na4,Rfc1,c5,dxc6,bxc6,Qa6,Nb6,Bxb6,axb6,Qxb6+,Qb7,Qe3,Be7,Rcb1,Bg5,Qd3,g6,a4,gxf5,exf5,d5,c4,e4,Bxe4,dxe4,Qxe4,Bf6,Ra3,Rde8,Qf3,Rhg8,c5,Qd7,Rd3,Qe7,Kf1,Qe4,b5,Qxf3+,Rxf3,Re5,bxc6+,Kc7,Rb7+,Kxc6,Rxf7,Bg5,Rc3,Rb8,g4,Rb2,h3,Bh4,Rc1,Ree2,a5,Rf2+,Kg1,Rg2+,Kh1,Rh2+,Kg1,Rbg2+,Kf1,Ra2,Kg1,Rxh3,Rg7,Bg5,Rg6+,Kc7,Rg7+,Kc8,Rg8+,Kc7,Rg7+,Kc8,Rg8+,Bd8,Rd1,Rg3+,Kf1,Rf3+,Kg1,Rg3+,Kf1,Rxa5,Rgxd8+,Kc7,R8d7+,Kc6,R7d6+,Kb5,Rxh6,Rxg4,Rc1,Rf4+,Ke1,Rxf5,Rb6+,Ka4,c6,Rae5+,Kd1', 'Rf1+,Kd2,Rd5+,Ke3,Rxc1', 'https://lichess.org/training/liITt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LIJJA', 'Rapid', 'GrofMonteKristo', 1683, 'mn274', 1625, 'f4,Nf6,Nf3,e6,e3,Be7,d4,O-O,Bd3,d5,c3,Nc6,O-O,Ne4,Nbd2,f5,Ne5,Bd7,Rf3,Bf6,Rh3,Qe7,Qh5,h6,Ng6,Qd6,Nxf8,Rxf8,Nf3', 'Be8,Qxe8,Rxe8', 'https://lichess.org/training/LIJJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lIJqH', 'Classical', 'Martino74', 1945, 'sutkuanil', 1818, 'd4,d5,Nf3,Nf6,Bf4,e6,h3,c5,e3,a6,c3,Nc6,Bd3,Bd6,Ne5,Qc7,Nxc6,Bxf4,exf4,Qxc6,dxc5,Qxc5,O-O,O-O,Nd2,b5,Rc1,Qd6,Qf3,Bb7,Rfe1,Nd7,Nb3,Rae8,Nd4,e5,fxe5,Nxe5,Qg3,Qf6,Bb1,Nc4,b3,Nd2,Bc2,b4,Nf5,bxc3,Rxe8,Rxe8,Nd6,Re7,Ne4,Qe5,Qxc3', 'Nxe4,Qxe5,Rxe5', 'https://lichess.org/training/lIJqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LiJTa', 'Rapid', 'BelowaverageJoe', 1693, 'alexejcaspers', 1671, 'd4,d5,c4,e6,Nf3,c5,cxd5,exd5,e3,cxd4,Nxd4,Nf6,Nc3,Nc6,Bb5,Bd7,O-O,Bc5,Nxc6,bxc6,Bd3,O-O,Qc2,h6,Re1,Re8,a3,Nh7,Bxh7+,Kh8,Bd3,Qg5,b4,Bd6,e4,Qg4,h3,Qh5,Be2,Qg6,Bf3,Bxh3,Ra2,dxe4,Nxe4,Bf5,Qxc6', 'Bh2+,Kxh2,Qxc6', 'https://lichess.org/training/LiJTa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('liKc9', 'Rapid', 'kukonosau', 2139, 'hajizadeh', 1852, 'd4,d5,Bf4,Nc6,e3,a6,c3,Bd7,Bd3,h6,h3,Nf6,Nd2,e5,dxe5,Nh7,Qc2,Ng5,O-O-O,Qe7,Bh2,O-O-O,f4,Ne6,Ngf3,Nc5,Be2,Na7,Nd4,Ba4,b3,Bc6,Rde1,Ne4,Nxe4,dxe4,Nxc6,Nxc6,Qxe4', 'Qa3+,Kb1,Rd2,Qc2,Rxc2', 'https://lichess.org/training/liKc9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('limGC', 'Rapid', 'AbeltheKnight', 1853, 'AhmedMansy', 1797, 'b3,d5,Bb2,Nf6,e3,e5,Bxe5,Nc6,Bb5,Bd6,Bxd6,Qxd6,Nc3,O-O,Qf3,Bg4,Qf4,Qxf4,exf4,Nd4,Bd3,c5,f3,Be6,O-O-O,c4,Bf1,cxb3,cxb3,Rac8,Kb2,Rfe8,Nge2,Nxe2,Bxe2,d4,Nb5,Bd7,Nd6', 'Rxe2,Nxc8,Bxc8', 'https://lichess.org/training/limGC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Linbv', 'Blitz', 'smanga', 1912, 'joule273', 1717, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,Nf6,d3,d6,Re1,Bd7,Bg5,O-O,Nbd2,a6,Ba4,b5,Bb3,a5,a3,a4,Ba2,Qb6,Rc1,Rac8,h3,h6,Be3,Kh7,Qc2,Ne8,Nf1,f5,Qd2,e5,Qe2,f4,Bd2,Nf6,N1h2,Nh5,Bd5,Ne7,c4,Nxd5,exd5,Rce8,Rc2,Bf5,Bc1,e4,dxe4,Rxe4,Qxe4,Bxe4,Rxe4,bxc4,Rexc4,Qb7,Rd2,Rf5,Rxa4,Rxd5,Rxd5,Qxd5,Bd2,Bxb2,Ra7+,Ng7,Ng4,Qf5,a4,h5,Ngh2,Qb1+,Nf1,Kh6,Bxf4+,g5,Bxg5+,Kg6,Be3,c4,Nh4+,Kh7,g3,c3,Bd4,c2', 'Rxg7+,Kh8,Ng6#', 'https://lichess.org/training/Linbv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LINEI', 'Classical', 'mtarnez', 1651, 'richard090', 1722, 'e4,e5,Qf3,Nc6,Bc4,Nf6,Nc3,Nd4,Qd1,d6,Nb5,Bg4,f3,Bd7,c3,Nxb5,a4,d5,Bxb5,Bxb5,axb5,dxe4,fxe4,Nxe4,Nf3,Bc5,Nxe5,Nf2,Qh5,Qe7,Rf1,g6,Qe2,O-O-O,d4,Bd6,Rxf2,Bxe5,dxe5,Qc5,Bg5,Rde8,Rxf7', 'Rxe5,Qxe5,Qxe5+', 'https://lichess.org/training/LINEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LINun', 'Rapid', 'SUB_ZERRO', 1932, 'garang', 1950, 'c4,e5,Nc3,Bb4,Nd5,Bc5,e3,Nf6,b4,Nxd5,bxc5,Nf6,Bb2,O-O,Bxe5,Re8,Bb2,Nc6,Be2,d5,cxd5,Nxd5,Nf3,Ndb4,O-O,Bg4,d4,Nd5,h3,Bh5,Qb3,b6,Rfd1,Na5,Qc2,Bg6,Bd3,Nb4,Qe2,Bxd3,Rxd3,Nxd3,Qxd3,Nc6,Qc3,Qd5,Nd2,Ne7,e4,Qg5,Nf3,Qg6,Re1,f5,Ne5,Qh5,g4,fxg4,hxg4,Qh4,Qc4+,Kh8,Nf7+,Kg8,Re3,Qxg4+,Rg3,Qd1+,Kg2,Rf8,Ne5+,Kh8,d5,Ng6,d6,cxd6,cxd6,Rf4,d7,Raf8', 'Nxg6+,hxg6,Rh3+', 'https://lichess.org/training/LINun');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LIPVo', 'Rapid', 'Karpuha1974', 1954, 'MaxQuintus', 1982, 'e4,c5,f4,e6,c4,Nc6,Nf3,Nf6,Nc3,Be7,d4,cxd4,Nxd4,Nxd4,Qxd4,b6,e5,Bc5,Qd1,Ng8,Ne4,Be7,Be2,Bb7,Bf3,f5,Nd6+,Bxd6,Bxb7,Rb8,Qf3,Bc5,Bd2,Qc7,Ba6,Ne7,O-O-O,O-O,g4,Nc6,Bc3,d5,cxd5,exd5,Qxd5+,Kh8,g5,Be3+,Kb1,Bxf4,e6,Rfd8,Qf3,Rxd1+,Rxd1,Bxg5,Rd7,Qxh2,Bxg7+,Kg8,Qxc6', 'Qg1+,Kc2,Qc1+,Kd3,Qxc6', 'https://lichess.org/training/LIPVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LiqJc', 'Rapid', 'Ainakul_Mukhtar', 2356, 'eRlAn_30042007', 2226, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,e5,d5,Nh5,Nge2,f5,exf5,gxf5,Qd2,a5,O-O-O,Na6,Rg1,Nc5,g4,fxg4,fxg4,Nf6,Bxc5,dxc5,h3,Ne8,Ne4,Nd6,N2g3,Rf4,Bd3,Qe7,Rdf1,Bd7,Rxf4,exf4,Qxf4,Rf8,Qd2,Be5,Nxd6', 'Bf4,Qxf4,Rxf4', 'https://lichess.org/training/LiqJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('liQJF', 'Rapid', 'Ungulate', 1712, 'MitchConne', 1793, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Bc4,Bb4,Nf3,Ne7,O-O,O-O,a3,Bxc3,bxc3,Nbc6,Bg5,Qa5,Qd3,f5,e5,h6,Bd2,Nxe5,Nxe5,Qxe5,Rfe1,Qc5,Be3,Qc6,Bd4,a6,Qg3,Rf7,Be2,Kh7,Bh5,g6,Bf3,d5,h4,Bd7,h5,g5,Qe5,Raf8,g4,fxg4,Bxg4,Nf5,Bxf5+,exf5,Rab1,Re8,Qg3,f4,Qf3,Rxe1+,Rxe1,Qd6', 'Qd3+,Kg8,Qg6+,Qxg6,hxg6', 'https://lichess.org/training/liQJF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('liqnP', 'Classical', 'Frep6', 1851, 'Luei', 1603, 'd4,d5,Bf4,Nf6,Nd2,Nc6,e3,e6,c3,Bd6,Bg3,Bxg3,hxg3,O-O,Bd3,g6,Ngf3,Re8,e4,dxe4,Nxe4,Nxe4,Bxe4,f5,Bxc6,bxc6,Ne5,Bb7,Qd2,Qd5,Qh6,Re7,Nxg6,hxg6', 'Qh8+,Kf7,Rh7#', 'https://lichess.org/training/liqnP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LIS7c', 'Rapid', 'Snake130983', 1737, 'buckfira', 1749, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Bg5,e6,Nf3,Be7,Bb5+,Nc6,Ne5,Bd7,Bxf6,Bxf6,Nxc6,Bxc6,Bxc6+,bxc6,O-O,O-O,Ne2,Qb6,c3,Qxb2,Rb1,Qxa2,Qd3,Qa5,Ra1,Qc7,Ng3,c5,Nh5,Bg5,f4,Bh6,Qg3,cxd4,Nf6+,Kh8,Ng4,dxc3,Rfc1,c2,Nxh6,gxh6,Qh4,d4,Ra3,e5', 'Qf6+,Kg8,Rg3#', 'https://lichess.org/training/LIS7c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LIu6V', 'Rapid', 'Mir60', 2042, 'ImperatorToTTi', 1974, 'e4,c5,Nc3,d6,Nf3,a6,d4,cxd4,Nxd4,Nc6,a4,g6,Bc4,Bg7,Be3,e6,O-O,Nge7,b4,Nxb4,Rb1,Nbc6,Nxc6,Nxc6,Bb6,Qf6,Ne2,Qe7,Nf4,O-O,Re1,Ne5,Ba2,Bd7,a5,Bc6,h3,Rac8,Nd3,Nd7,f4,Nxb6,axb6,Qh4,Qf3,Bd4+,Kh1,f5', 'Bxe6+,Kh8,Bxc8', 'https://lichess.org/training/LIu6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('liUAm', 'Blitz', 'FM Mister_Gatto', 2410, 'GM strelec64', 2560, 'Nf3,Nf6,c4,e6,Nc3,d5,e3,Be7,b3,O-O,Bb2,b6,cxd5,exd5,d4,Bb7,Ne5,Ne4,Nxe4,dxe4,Be2,Bb4+,Kf1,Nd7,Nc4,Bd5,g3,f5,Kg2,Qg5,Kf1,Rad8,h4,Qe7,a3,Bd6,Nxd6,cxd6,Bc4,Nf6,Qe2,Kh8,a4,Qe6,Ba3,Ng4,Kg2,Bxc4,bxc4,Rf6,Rac1,Rg6,h5,Rg5,d5,Qf7,h6,Nxh6,Rxh6,gxh6,Bb2+,Kg8,Qd2,Qe7,Qc3,Kf7,Rh1,h5,Qd2,Kg6,Qd4,Rg4,Kf1,Rg8,Qc3,h4,gxh4,Rxh4,Rg1+,Rg4,Rh1,h5,a5,h4,axb6,axb6,Qd4,Kh6,Qxb6,Qg5,Qxd6+,Qg6,Be5,Qxd6,Bxd6,Ra8,Bf4+,Kh5,Rh3,Ra1+,Ke2,Rgg1,Kd2,Ra2+,Kc3,Kg4,Rh2,h3', 'f3+,exf3,Rxa2,Rg2,Ra1,f2,Rf1', 'https://lichess.org/training/liUAm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lIUo9', 'Rapid', 'WillJK', 1807, 'ashwini30kumar_123', 1883, 'e4,c6,d4,d5,e5,c5,dxc5,Nc6,Nf3,Bg4,Bb5,e6,a3,Bxc5,b4,Bb6,Bb2,Ne7,O-O,O-O,h3,Bh5,g4,Bg6,Nbd2,Rc8,Rc1,a6,Ba4,Qc7,c4,dxc4,Nxc4,Rcd8,Nd6,f6,Bxc6,Nxc6,Qb3,fxe5,Nc4,e4,Nfe5,Ba7,Nxg6,Qg3+,Kh1,Qxh3+,Kg1,Qxg4+,Kh1,Qxg6,Qh3,Rd3,Ne3,Rf3,Qh4,Nd4,Rc8+,Rf8,Rg1,Qf7,Rxf8+,Qxf8,Ng4,Qf3+,Kh2,Nf5,Nf6+,Kf7,Rxg7+,Kxg7,Qxh7+,Kf8,Qh8+,Ke7', 'Qe8+,Kd6,Qd7#', 'https://lichess.org/training/lIUo9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Livwx', 'Rapid', 'lordred', 1790, 'VitoJanko', 1763, 'e4,c5,d4,d6,d5,Nf6,Nc3,g6,Qf3,Bg7,Bg5,O-O,Bf4,Bg4,Qe3,Nbd7,Bh6,Ne5,Bxg7,Kxg7,f3,Bd7,g4,Qb6,O-O-O,Nfxg4,fxg4,Bxg4,Be2,Bxe2,Qxe2,Qb4,Nf3', 'Nc4,Na4,Qxa4', 'https://lichess.org/training/Livwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('liVxD', 'Blitz', 'toopchi92', 1601, 'Slavdimon', 1591, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,d4,Bg4,Be2,Nf6,Bxf4,Bd6,Bxd6,Qxd6,O-O,Nc6,c3,O-O,Qd3,Rfe8,Ng5,h6,Bxg4,Nxg4', 'Qh7+,Kf8,Rxf7#', 'https://lichess.org/training/liVxD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('livyt', 'Rapid', 'micaa', 2067, 'idob', 1980, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Bd3,Nc6,c3,b6,Ne2,Bb7,O-O,Be7,N2g3,h5,Nxf6+,Bxf6,Nxh5,Qd6,Ng3,O-O-O,Qe2,Rh4,Ba6,Rdh8,Bxb7+,Kxb7,h3,g5,Qf3,g4,Qxf6,gxh3,gxh3,Rxh3,Bf4,Qd5,f3,Rg8,Kf2,e5,Bxe5,Nxe5,Qxe5,Rh2+,Ke3,Qc6,Ne4,Qc4,Rf2,Rh6,Qe7,Re6,Qxf7,Rxe4+,fxe4,Rg3+,Kd2', 'Qd3+,Kc1,Rg1+', 'https://lichess.org/training/livyt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lIYfb', 'Rapid', 'fr77127', 2254, 'r_usiskin', 2115, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Bf4,e6,c3,Bd6,Bg3,O-O,Nf3,Nc6,Nbd2,Rb8,O-O,b5,Qe2,b4,Ne5,Qc7,Rac1,Bd7,cxb4,Nxd4,Qe3,Qb6,Nxd7,Nxd7,Bxd6,Qxd6,Qxd4,Rxb4,Qxa7,Rxb2,Rc2,Rxc2,Bxc2,Rc8,Bd3,Ne5,Ba6,Ng4,g3,Rd8,Rd1,Qa3,Qc7,Ra8,Bb7,Rf8,Qc2,g6,Nb3,Qa7,Bc6,Rc8,Qe2,Rxc6,Qxg4,Qxa2,Nd4,Rc4,Qf4,Qa4,Rd2,Qa1+,Kg2,Qc3,Qe3,Qc1,Ra2,Kg7,Qe5+,Kh6,Qf4+', 'Qxf4,gxf4,Rxd4', 'https://lichess.org/training/lIYfb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lIyQ1', 'Rapid', 'VitoJanko', 1649, 'alirezachemist110', 1647, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Qe7,Nc3,Nf6,Bd3,d5,Bg5,Qe5,Bxf6,Qxf6,O-O,Qxd4,Re1,Be7', 'Bb5+,c6,Qxd4', 'https://lichess.org/training/lIyQ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lIZKi', 'Rapid', 'hasanahmad5178', 2006, 'kingsmen99', 2065, 'd4,d5,Nf3,e6,g3,c5,c3,Nf6,Bg2,Nc6,O-O,a6,a3,Bd6,Re1,O-O,Nbd2,b6,Nf1,Bb7,b4,c4,N3d2,Qc7,e4,dxe4,Nxe4,Nxe4,Bxe4,b5,Qc2,f5,Bg2,Rae8,Bd2,e5,dxe5,Nxe5,Bxb7,Qxb7,Re3,Nf3+,Rxf3,Qxf3,Be3,f4,Bd4,fxg3,hxg3,Re2,Qd1,Rf5,Be3,Rh5,Nh2,Rxh2,Kxh2,Rxf2+,Bxf2,Qxf2+,Kh1,Bxg3,Qd5+,Kf8,Qc5+,Kf7', 'Qxf2+,Bxf2,Rf1,Ke6,Rxf2', 'https://lichess.org/training/lIZKi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LIzVi', 'Rapid', 'Rohan00007', 1681, 'MashaPa', 1694, 'e4,f5,Bc4,Nf6,exf5,d5,Bb3,Bxf5,Qf3,Be4,Qg3,e6,d3,Bd6,f4,Bf5,Nf3,O-O,O-O,h6,Nc3,Nh5,Qf2,Nxf4,Bxf4,Bxf4,Nd4,Be5,Nxf5,Rxf5,Qe3,Qf6,Rxf5,exf5,Nxd5,Qd6,Nxc7+,Kh7,Nxa8', 'Bd4,Qxd4,Qxd4+', 'https://lichess.org/training/LIzVi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lj0mI', 'Rapid', 'ChocoBalerma', 1623, 'sunn_oooo', 1638, 'e4,e5,Nf3,Nc6,Nc3,Bb4,a3,Bxc3,dxc3,Nf6,Bg5,h6,Bh4,g5,Bg3,d6,Bd3,Bg4,h3,Bh5,O-O,Bg6,Re1,Qe7,h4,g4,Nh2,h5,b4,Nh7,Nf1,O-O-O,Ne3,Nf6,Qd2,Nxe4,Nd5,Nxd2,Nxe7+,Nxe7,Re2,Bxd3,cxd3,Nb3,Rb1,Na5,bxa5,f5,Reb2,b6,axb6,cxb6,a4,Nc6,Ra1,Na5,d4,f4,Bh2,Kb8,Kf1,g3,fxg3,fxg3,Bxg3,Rdf8+,Ke2,Re8,Kd3,e4+,Ke2,Kc7,Rb4,Rhg8,Bf4,Rxg2+,Ke3,Rc2,Ra3,Kb7,Bxd6,Nc6,Rb5,Re6,Bb4,Nxb4,cxb4,Rh6,a5,Rh2,axb6', 'Rh3+,Kxe4,Rxa3', 'https://lichess.org/training/Lj0mI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lj3DW', 'Rapid', 'raulmsk', 1846, 'JoelsonSantosSilva', 1664, 'd4,d5,e3,Nc6,f4,Bf5,a3,g6,Be2,Bg7,g3,Nf6,Nd2,O-O,h4,Ne4,Nxe4,Bxe4,Bf3,e6,h5,Qe7,Nh3,Bf5,Nf2,Na5,c3,Nc4,g4,Be4,Nxe4,dxe4,Bxe4,f5,Bf3,c5,hxg6,h6,Qe2,Nd6,gxf5,exf5,Kf2,Ne4+,Bxe4,Qxe4,Rh2,cxd4,cxd4,Rac8,Bd2,Rfe8,Bc3,Bxd4,Rh3,Bxc3,bxc3,Rxc3,Rd1,Rec8,Rd2,Rc2,Rxh6', 'Rxd2,Qxd2,Rc2,Ke1,Rxd2', 'https://lichess.org/training/Lj3DW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lj3mW', 'Blitz', 'aminiklaha', 1772, 'nicolas_rinette', 1811, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Be2,Nge7,O-O,Nf5,g4,Nh6,h3,Be7,Bxh6,gxh6,Qd2,Bg5,Nxg5,hxg5,Qxg5,Qxb2,Nd2,Qxc3,Nf3,cxd4,Qg7,Rf8,Ng5,Bd7,Nxh7,O-O-O,Nxf8,Qxh3,Rac1,Kb8,Bb5,Be8,Nh7,d3,Nf6,Nxe5,f4,Bxb5,fxe5,d2,Qg5,dxc1=Q,Rxc1,Qg3+,Kh1,Be2', 'Nd7+,Rxd7,Qg8+,Rd8,Qxd8#', 'https://lichess.org/training/lj3mW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lj3qV', 'Rapid', 'bannex', 1771, 'rapka', 1773, 'd4,d5,Nf3,Nc6,c4,dxc4,e4,Bg4,Bxc4,e6,Be2,Bb4+,Nc3,Nge7,a3,Ba5,O-O,O-O,Be3,Ng6,Rc1,Bxc3,bxc3,Nce7,Qc2,f5,h3,Bxf3,Bxf3,Nh4,Bh5,f4,Bd2,f3,g3,Nhg6,Bxg6,Nxg6,e5,Rf5,Rce1,Nh4,g4,Rf7,Qc1,Ng2,Rd1,Qh4,Kh2,Raf8', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/lj3qV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lj3xE', 'Classical', 'samvelqs', 1979, 'Duscian', 1949, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,Be7,Nf5,O-O,Nxe7+,Nxe7,Bc4,b5,Nxb5,Bxb5,Bxb5,Nxe4,Re1,Nc5,Bg5,f6,Bh4,Nf5,Bg3,Nxg3,fxg3,Rb8,Bc4+,Kh8,b3,c6,Qg4,d5,Bf1,Ne4,Bd3,Qb6+,Kf1', 'Qf2#', 'https://lichess.org/training/lj3xE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lj5ea', 'Rapid', 'serbi', 1826, 'ozdemir_ceker', 1776, 'e4,e5,Nf3,Bc5,Bc4,Qf6,Nc3,c6,d3,h6,Be3,Be7,O-O,d6,h3,Qg6,Kh2,h5,d4,exd4,Bxd4,h4,e5,d5,Bd3,Bf5,Bxf5,Qxf5,e6,Nh6,Bxg7,Rh7,exf7+,Nxf7,Qd4,Nd7,Rae1,Nd6,Rxe7+,Kxe7,Re1+,Kd8,Nxh4,Qg5,Re6,Kc7,Rxd6,Kxd6', 'Ne4+,Kc7,Nxg5', 'https://lichess.org/training/lj5ea');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJ5sT', 'Rapid', 'buyanbuya', 1649, 'tarikz', 1629, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nc6,Nf3,Nf6,Bg5,Be7,e3,Bf5,Qb3,Be6,Bd3,b6,O-O,Na5,Qb5+,c6,Qa4,O-O,b4,Nc4,Rac1,b5,Qb3,Bg4,Bxc4,bxc4,Qd1,Bxb4,h3,Bh5,g4,Bg6,Ne5,Qd6,Qa4,Bxc3,Rxc3,Ne4,Rcc1,Nxg5,f4,Nxh3+,Kg2,Ng5,f5,Bxf5,gxf5,Qh6,Rh1,Qf6,Rcf1,Ne4,Qxc6,Qg5+,Kf3,Ng3,Rhg1,Qxf5+,Kxg3,Qg5+,Kf3,Qh5+,Kf2,Rac8,Qxd5,c3,Qe4,g6,Rh1,Qg5,Nf3,Qf6,Ke2,Rfe8,Qd3,c2,Ne5,Qg5,Rhg1,Qh5+,Kd2,c1=Q+,Rxc1,Qh2+,Qe2,Qh3,Rh1,Qf5,Rcf1,Qe6,Nxf7,Qxa2+,Ke1,Qa5+,Kf2,Qf5+,Ke1,Rc1+,Kd2,Rxf1', 'Nh6+,Kg7,Nxf5+', 'https://lichess.org/training/lJ5sT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lj67Q', 'Blitz', 'Renzelle_Pasamba', 2069, 'Dingbatochess', 1968, 'e4,e6,d4,d5,exd5,exd5,Bf4,Bf5,Nf3,c6,Bd3,Bg4,c3,Nf6,Nbd2,Bd6,Bg3,O-O,O-O,Bxg3,hxg3,Nbd7,Qb3,Qb6,Rab1,Rfe8,Qc2,c5,dxc5,Nxc5,Bf5,g6,Bxg4,Nxg4,Nd4,Qf6,N2f3,Qg7,Qd2,Ne4,Qd3,Qh6,Nb5,Re7,Qxd5,Rae8,Rbe1,Re5,Qd7,Nd2,Rxe5', 'Nxf3+,gxf3,Qh2#', 'https://lichess.org/training/Lj67Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJ7ds', 'Rapid', 'borrom', 1875, 'farzadzoraghchi', 1704, 'Nf3,Nc6,d4,Nf6,d5,Nb8,g3,c6,c4,cxd5,cxd5,Qa5+,Nc3,e6,dxe6,fxe6,Bg2,Bb4,Bd2,O-O,O-O,Nc6,a3,Be7,b4,Qc7,Qb3,Rb8,Bf4,Bd6,Bxd6,Qxd6,Rad1,Qe7,Nb5,d5,Nbd4,Nxd4,Nxd4,a6,e3,Ng4,Bh3,Nxf2', 'Rxf2,Rxf2,Kxf2', 'https://lichess.org/training/lJ7ds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJ8zA', 'Classical', 'SanS35', 1721, 'Makar_Bandit', 1619, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d5,exd5,Qxd5,c3,Nf6,f3,Bc5,Be3,O-O,Be2,Re8,Bf2,Nh5,O-O,Nxd4,cxd4,Bd6,Nc3,Qg5,Re1,Nf4,Bf1', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/lJ8zA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lj9Y0', 'Blitz', 'UwedShadow', 2180, 'RobertoMieres', 2195, 'e4,d6,Nf3,Nf6,d4,Nxe4,Bd3,Nf6,O-O,g6,Re1,Bg7,Bg5,O-O,Qd2,Nbd7,c4,c6,Nc3,Re8,Bh6,Qc7,Bxg7,Kxg7,h4,e5,d5,cxd5,Nxd5,Nxd5,cxd5,Qd8,Rac1,Nc5,Bb5,Bd7,Bxd7,Qxd7,Nxe5,Rxe5,Rxe5,Nb3,Qc3,dxe5,Qxe5+,f6,Rc7,fxe5,Rxd7+,Kf6,axb3,h5,Rxb7,Rd8,Rb5,Rd6,Ra5,a6,b4,e4,b5,axb5,Rxb5,Ke5,f3,exf3,gxf3,Kf4,Kf2,g5,Rb4+,Kf5,Rd4,gxh4,Kg2,Ke5,Rd3,Kf4,Kh3,Kg5,b3,Kg6,Kxh4,Kh6,b4,Kg6,Rd4,Kh6,b5,Kg6,Rb4,Rxd5,b6,Rd8,b7,Rb8,Rb6+,Kf5,Kxh5,Rh8+,Rh6,Rb8,Rh7,Kf4,Rf7+,Ke5,f4+,Ke6,Rc7,Kf5,Re7', 'Rh8+,Rh7,Rxh7#', 'https://lichess.org/training/Lj9Y0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ljaOl', 'Rapid', 'Samoilov_Roman_2010', 1834, 'hivva', 1839, 'd4,Nf6,c4,d6,Nf3,Bg4,g3,Bxf3,exf3,Nc6,Bg2,e6,Nc3,Be7,O-O,h6,Re1,O-O,Bf4,Nh7,d5,exd5,cxd5,Nb4,Qb3,a5,a3,Nd3,Re4,Nxf4,Rxf4,Bg5,Rc4,b6,Nb5,Rc8,Bh3,f5,Qc2,g6,f4,Be7,g4,Nf6,gxf5,Nxd5,f6,Rxf6,Bxc8,Qxc8,Nxc7,Qg4+,Kf1,Nxf4,Qb3,Qg2+,Ke1,Qg1+,Kd2,Qxf2+,Kc1,Ne2+,Kd1,Qf1+', 'Kd2,Qxa1,Rc1+,Kh8,Rxa1', 'https://lichess.org/training/ljaOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ljbe6', 'Rapid', 'Robyarchitetto', 1807, 'Gereloco', 1826, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,d5,exd5,Qxd5,h3,Qxb5,Nc3,Qc5,d3,h6,Be3,Qd6,Ne4,Qd8,c4,b6,a4,Bb7,c5,bxc5,Nxc5,Bc8,a5,Nd5,Qa4,Nxe3', 'Qxc6+,Bd7,Nxd7,Qxd7,Qxa8+', 'https://lichess.org/training/ljbe6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJBqH', 'Rapid', 'Enescetin3207', 1683, 'sharkema', 1686, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Be2,Nf6,d4,Be6,Re1,Be7,dxc5,O-O,Nc3,Bxc5,Bg5,Qb6,Bxf6,Bxf2+,Kh1,Bxe1,Bxg7,Kxg7,Qxe1,Rg8,Bd3,Nb4,Qe5+,f6,Qg3+,Kf7,Qh4,Nxd3,Qxh7+,Rg7,Qxd3,Qf2,Rg1,Rag8,Nxd5,Rxg2,Nf4,Rxh2+,Nxh2', 'Rxg1#', 'https://lichess.org/training/lJBqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJdLi', 'Classical', 'Quark', 2077, 'LCG2016', 1942, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bb5+,Bd7,O-O,a6,Bxd7+,Qxd7,f4,Nc6,f5,Bg7,fxg6,hxg6,Nxc6,Qxc6,Qf3,O-O-O,Bg5,Qc5+,Be3,Qe5,h3,Rh4,Bf4,Qh5,Qe3,Nd7,Bg5,Qh8,Bxh4', 'Bd4,Bf2,Bxe3', 'https://lichess.org/training/lJdLi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LjEIB', 'Blitz', 'Rykaplestkys', 1515, 'letyu_fly', 1563, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Qxe2+,Ngxe2,e6,g3,h6,Bg2,a6,d4,Nd7,d5,e5,f4,Bd6,Rf1,Ngf6,fxe5,Bxe5,Nf4,Ng4,h3,Ngf6,b3,O-O,Bb2,Re8,Kd1,Nc5,Re1,Bxc3,Rxe8+,Nxe8,Bxc3,b5,Kd2,b4,Bd4,Nd7,Re1,Bb7,c3,c5,Bf2,a5,cxb4,axb4,Ra1,Ba6,Be4,Ndf6,Bd3,Nd6,Bxa6,Rxa6,g4,Nde4+,Ke3,Nxf2,Kxf2,Ne4+,Ke3,Nc3,Rc1,Rf6,h4', 'Rxf4,Kxf4,Ne2+,Ke5,Nxc1', 'https://lichess.org/training/LjEIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJEid', 'Rapid', 'spacecase124875', 2069, 'shahmatchi', 1904, 'e4,d6,d4,c6,Nf3,e6,Nc3,Be7,Bd3,Na6,a3,Nc7,O-O,f5,Bf4,Nf6,e5,Nh5,Bd2,d5,Ne2,O-O,c4,g5,Nc3,Bd7,Kh1,Be8,Rg1,Nf4,Bf1,h5,Qc1,Kh8,Nxg5,Bxg5,Bxf4,Bxf4,Qxf4,Kh7,Re1,Rg8,h3,Bf7,Re3,Rg6,Bd3,Qe7,c5,Rag8,g4,hxg4,Ne2,Qh4,Rg2,Kh8,Rh2,Rh6,hxg4,Rxg4', 'Qxh6+,Qxh6,Rxh6+', 'https://lichess.org/training/lJEid');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LjEPL', 'Rapid', 'WATCHTHEEE', 1925, 'junior1990', 1922, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,Bc5,d3,c6,Bc4,d6,a4,Qf6,Nd2,Qg6,Nf3,Nf6,Kh1,Bg4,h3,Bh5,g4,Bxg4,hxg4,Nxg4,Bf4,h5,Nh4,Qh7,Nf5,O-O-O,f3,Ne3,Nxe3,dxe3,Qe2,Qg6,Bxe3,Bxe3,Qxe3,h4,Rf2,h3,Rh2,a6,Rg1,Qf6,f4,d5,Bb3,dxe4,dxe4,Qxb2,Rxh3,g6,Kg2,Rxh3,Qxh3+,Kb8,Kf3', 'Qc3+,Kg4,f5+,Kg5,Qxh3', 'https://lichess.org/training/LjEPL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJEqj', 'Classical', 'Kya19', 1654, 'oguzhantmbl', 1896, 'd4,g6,Nf3,Nf6,h3,Bg7,Nc3,O-O,e4,d6,d5,e5,Bg5,Nbd7,Bb5,c5,dxc6,bxc6,Bxc6,Rb8,b3,Nc5,Nd5,Qa5+,b4,Qa6,Bxf6,Qxc6,Bxg7,Kxg7,Ng5,Na6,f4,Nxb4,Nxb4,Rxb4,fxe5,dxe5,O-O,f6,Nf3,Qxe4,Qd6,Rb6,Qe7+,Rf7', 'Qxf7+,Kxf7,Ng5+,Ke7,Nxe4', 'https://lichess.org/training/lJEqj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJeV9', 'Rapid', 'pmelin', 1821, 'mbinsh', 1884, 'e4,c5,Nf3,Nc6,Bc4,d6,h3,Nf6,d3,e6,Nbd2,Be7,c3,O-O,O-O,d5,exd5,exd5,Bb3,h6,d4,c4,Bc2,b5,Re1,Bd6,a4,b4,cxb4,Nxb4,Nf1,Nxc2,Qxc2,Bb4,Bd2,Bxd2,Qxd2,Bf5,Ne5,Ne4,Qf4,Bh7,f3,Nd6,Ne3,f6,Nc6,Qd7,Nb4,Rab8,Nexd5,Nf5,g4,a5,gxf5,axb4,Ne7+,Kh8,Kg2,c3,bxc3,bxc3,Kg3,c2,Rac1,Rb2,Qe4,Rd8,d5,Qd6+,Kh4,Ra8,Rxc2,Rb4,Rc4,Raxa4,Rec1', 'Rxc4,Rxc4,Rxc4,Qxc4,Qxe7', 'https://lichess.org/training/lJeV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ljeze', 'Rapid', 'patxon', 1755, 'Katsu', 1735, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Nge7,d4,cxd4,Nxd4,Nxd4,Qxd4,Nc6,Qe3,Bd6,b3,Be5,c3,Qc7,g3,b6,Qg5,O-O,Bb2,Bb7,Nd2,Rad8,Nf3,Bf6,Qg4,Ne5,Nxe5,Bxe5,Bd3,Qc6,h4,d5,Rfe1,d4,cxd4,Bxd4,Rac1,Qd7,Bxd4,Qxd4,Rcd1,Qb2,e5,Qxa2,h5,Qxb3,Re3,Qb2,h6,g6,Qf4,f6,exf6,Rxf6,Re2,Qc3,Qe3,Qc6,Be4,Qxe4,Qxe4', 'Rxd1+,Re1,Bxe4', 'https://lichess.org/training/Ljeze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJFH6', 'Rapid', 'elainebenes', 1949, 'LeRenardGris', 2134, 'e4,c5,Nf3,d6,h4,Nf6,d3,Bg4,Be2,Nc6,Bg5,e6,Nbd2,h6,Be3,Be7,c4,O-O,Nh2,Bxe2,Qxe2,Nb4,Ndf3,Nh5,a3,Nc6,O-O,Bxh4,d4,cxd4,Nxd4,Nxd4,Qxh5,Nc2,Bxh6,gxh6,Rac1,Nd4,Rc3,Qg5,Qd1,Qe5,Ng4,Qg7,Rh3,Bg5,f4,f5,fxg5,fxg4,gxh6,Rxf1+,Qxf1,Qe5,h7+,Kg7,Rh4,Qg5,Rh2,g3,Rh3,Rf8', 'Qxf8+,Kxf8,h8=Q+', 'https://lichess.org/training/lJFH6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJfQ7', 'Rapid', 'twa', 1892, 'zema3000', 1971, 'Nf3,Nf6,c4,Nc6,d4,d6,Nc3,Bg4,h3,Bxf3,exf3,e6,Bd3,Ne7,O-O,Ng6,Bd2,Be7,Qc2,O-O,g4,Nh4,Be2,c6,f4,e5,Rae1,e4,Nxe4,Nxe4,Qxe4,f5,Qc2,d5,a3,a6,cxd5,Qxd5,Bc4,Nf3+,Kg2', 'Nxe1+,Kh2,Nxc2', 'https://lichess.org/training/lJfQ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LJFvK', 'Rapid', 'Super_Fireboy', 1752, 'KAappu', 1740, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qxe4+,Qe2,Qxe2+,Kxe2,Bg4,Re1,O-O-O,d3,Bc5,Be3,Bxe3,fxe3,Nf6,h3,Bxf3+,gxf3,Nd5,Rg1,g6,e4,Nf4+,Ke3,Nxh3', 'Rg3,Ng5,Rxg5', 'https://lichess.org/training/LJFvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ljfzQ', 'Rapid', 'ashfem1', 1859, 'Gbit2', 1913, 'd4,e5,dxe5,d6,exd6,Bxd6,c3,Qe7,e3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,O-O-O,Qb3,g5,O-O,g4,Nd4,Be4,Nf5,Bxf5,Nd2,Qe5,g3,h5,Nc4,Qd5', 'Nb6+,axb6,Qxd5', 'https://lichess.org/training/ljfzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LjGHI', 'Rapid', 'Gordalf', 2113, 'A_K_S_U_S_A_R_Y_A', 2028, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bd6,d4,exd4,O-O,Nf6,Re1,Ne5,Bxf7+,Kxf7,cxd4,Nxf3+,Qxf3,Bb4,Nd2,Bxd2,Bxd2,d6,Bg5,h6,Bh4,Rf8,e5,dxe5,dxe5,Kg8,exf6,g5,Re7,Rf7,Qb3,Qf8,Rae1,Bf5,Bg3,Bg6,Bxc7,Kh8,Be5,Rd8,Qxb7,Kg8,Qxa7,Ra8,Qc5,Rxa2,Qc6,Rxe7,fxe7', 'Qxf2+,Kh1,Qxe1#', 'https://lichess.org/training/LjGHI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LJGxX', 'Blitz', 'CM ambushtactics', 2430, 'Lobo19', 2417, 'Nf3,Nf6,g3,c5,Bg2,Nc6,O-O,d6,c4,g6,b3,Bg7,Bb2,e5,Nc3,O-O,d3,h6,e3,Bg4,h3,Be6,Nd2,Qd7,Nde4,Bxh3,Nxf6+,Bxf6,Ne4,Be7,Bxh3,Qxh3,Qf3,Qe6,d4,cxd4,exd4,exd4,Rae1,Ne5,Qf4,g5,Qc1,Qf5,f4,Nd3,Qd2,Nxe1,Qxe1,g4,Bxd4,Rfe8,Qb1,Kf8,Kf2,d5,cxd5,Qxd5,Be5,Bc5+,Kg2,f6,Rd1,Qc6,Rf1,f5,Rc1,fxe4,b4,e3+,Kh2,Qf3,Qf5+,Ke7,Bf6+,Kd6,Qxc5+,Ke6,Qe5+,Kf7,Rc7+,Kg6', 'Rg7#', 'https://lichess.org/training/LJGxX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LJI4u', 'Rapid', 'mtywdc', 1970, 'superluigi', 1837, 'e4,d5,exd5,Qxd5,Nc3,Qa5,b4,Qxb4,Nb5,Qa5,Bc4,c6,Nc3,Nf6,Nf3,Bf5,O-O,e6,Bb2,Qb4,Bb3,Be7,a4,Nbd7,Ba3,Qb6,Bxe7,Kxe7,Nh4,Bg6,Rb1,Qc7,Re1,Rad8,f4,Bh5,Nf3,Qxf4,Rf1,Qc7,Qe1,Nc5,Ne5,Nxb3,Rxb3,Rd4,Qg3,Qd6,Rxb7+,Ke8,Qxg7,Rg8,Qxf6,Rxd2,g3,Rxc2,Ne4,Qd4+,Nf2,Qd6,Nxf7', 'Rxg3+,hxg3,Qxg3+,Kh1,Bf3+,Qxf3,Qxf3+', 'https://lichess.org/training/LJI4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LJIvX', 'Blitz', 'anto254', 1761, 'Pallychess', 1763, 'd4,Nf6,c4,d5,Nc3,g6,Bg5,Bg7,Nf3,O-O,e3,c5,Be2,cxd4,exd4,Bg4,O-O,dxc4,Bxc4,Bxf3,Qxf3,Qxd4,Qxb7,Nbd7,Bxf6,Nxf6,Bb3,e6,Rad1,Qh4,g3,Qh5,Rde1,Ng4,h4,Rad8,Bd1,Qf5,Qb4,Ne5,Ne4,Qh3,Be2,Ng4', 'Bxg4,Qxg4,Nf6+,Bxf6,Qxg4', 'https://lichess.org/training/LJIvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LjKV2', 'Rapid', 'redOne2000', 1738, 'KarlTheMarx', 1736, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Nxc6,Bc5,Qf3,Qxf3,gxf3,dxc6,Rg1,g6,Be3,Bxe3,fxe3,Nf6,Nc3,Be6,O-O-O,Nd7,f4,Nb6,e5,Bd5,Nxd5,Nxd5,Rd3,O-O-O,Be2,Rhe8,a3,h5,h4,Ne7,Rxd8+,Rxd8,Bd3,Nd5,Re1,a6,c4,Ne7,Kc2,b5,b3,Kd7,a4,Rb8,cxb5,cxb5,axb5,axb5,Rd1,Ke6,e4,c6,b4,Ng8,Kc3,Nh6,Bc2,Ng4,Bb3+,Ke7,Rd6,Rc8,Kd4,Nh2,Kc5,Nf3,Rxc6', 'Rxc6+,Kxc6,Nd4+', 'https://lichess.org/training/LjKV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LJL1Z', 'Rapid', 'ACARMURATCAN1', 1824, 'ChamRegsHneer', 2133, 'e4,e5,Nf3,f5,exf5,Nf6,Bc4,d5,Bb3,e4,Ne5,Bxf5,d4,Bd6,Bf4,O-O,c4,c6,Nc3,Be6,c5,Bc7,f3,exf3,Qxf3,Nbd7,O-O,Nxe5,Bxe5,Bxe5,dxe5,Ng4,Qg3,Qc7,Rae1,Rxf1+,Rxf1,Rf8,Re1,Rf5,Bd1,Rxe5', 'Bxg4,Rxe1+,Qxe1', 'https://lichess.org/training/LJL1Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ljMOO', 'Classical', 'El_chia', 1807, 'Rubesh', 1801, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bg5,Bg4,c3,Bd6,Nbd2,Nc6,Bd3,O-O,O-O,Re8,Qc2,h6,Bh4,Nb8,Bg3,Bxg3,fxg3,c6,Rae1,Nbd7,Ne5,Be6,Bf5,Bxf5,Qxf5,Qb6,Ndf3,Rad8', 'Nxd7,Nxd7,Rxe8+,Rxe8,Qxd7', 'https://lichess.org/training/ljMOO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ljmxc', 'Classical', 'kushalparma', 1726, 'say_eso', 1837, 'e4,c5,Nf3,d6,c3,Nf6,e5,dxe5,Nxe5,Qc7,d4,Nc6,Bb5,Bd7,Nxd7,Nxd7,Nd2,cxd4,Bxc6,Qxc6,Nf3,dxc3,O-O,c2,Qe2,Rd8,Bg5,f6,Nd4,Qd5,Ne6,fxg5', 'Nc7+,Kf7,Nxd5', 'https://lichess.org/training/ljmxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ljnap', 'Blitz', 'kargar50', 1620, 'aristido-14', 1651, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,Nb6,Bb3,Nc6,O-O,Bg4,h3,Bh5,g4,Bg6,Nh4,Qd7,Nxg6,hxg6,Qf3,O-O-O,Qxf7,Rxh3,Be6,Ne5,Bxd7+,Kxd7,Qf4,Nc6,Nc3,e6,Kg2,Bd6,Qf7+,Kc8,Kxh3,Rh8+,Kg2,Nd4,Qxg7', 'Rh2+,Kg1,Nf3#', 'https://lichess.org/training/Ljnap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJoRY', 'Classical', 'PaulJack', 1761, 'Dragonet', 1777, 'c4,e6,Nc3,c6,d4,Bb4,Bd2,Bxc3,Bxc3,d5,c5,Ne7,Nf3,O-O,e3,Nd7,Bd3,f5,O-O,Ng6,b4,a6,Re1,Nf6,Rc1,Qc7,Ne5,Nxe5,dxe5,Nd7,f4,Rf7,Rc2,Nf8,Rf2,Bd7,Rf3,Be8,Rg3,b6,Qh5,Nd7,Qh6,bxc5,Qxe6,Nf8,Qh6,cxb4,Ba1,Kh8,Qh4,Bd7,Rf1,Be6,Rff3,c5,Rg5,h6,Rfg3,Nh7,Rh5,c4,Bb1,c3,Bc2,a5,Rg6,Re7,g4,Bf7,Rhxh6,gxh6,Rxh6,Bg8,Bxf5,c2,Bxc2,Re6,f5,Qxc2,fxe6,Qb1+,Kg2,Qxa1', 'Qf6#', 'https://lichess.org/training/lJoRY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ljQw6', 'Rapid', 'Jotage2014', 1955, 'VentusMutationis', 1892, 'd4,d5,c4,c6,Nf3,Nf6,Bf4,e6,e3,a6,Nbd2,Nbd7,Rc1,c5,cxd5,Nxd5,Bg3,cxd4,Nxd4,Be7,a3,O-O,Bc4,N7f6,N2f3,Ne4,Bxd5,Qxd5,Bc7,Bd7,O-O,Rac8,Bb6,Bc5,Bxc5,Nxc5,b4,Ne4,Qe2,Nc3,Qb2,Nb5,Nxb5,Bxb5,Rfd1,Qh5,Nd4,Bd7,Rxc8', 'Qxd1#', 'https://lichess.org/training/ljQw6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJsHD', 'Classical', 'chiri96', 1680, 'testaccount42', 1702, 'd4,e6,Bf4,Be7,e3,g5,Be5,f6,Bg3,h5,h3,h4,Bh2,d5,c3,Bd7,Nd2,Nc6,Qb3,Na5,Qc2,f5,Be2,Nf6,Ngf3,Bd6,Bxd6,cxd6,Nxg5,Rg8,Ndf3,Ne4,Nxe4,dxe4,Nd2,Rxg2,Bh5+,Kf8,O-O-O,Qg5,Be2,Rxf2,Nf1,Qg2,Rh2,Qg1,Rxf2,Qxf2,Rd2,Qg1,b4,Nc6,Bb5,Nxb4,cxb4,Bxb5,Kb2,Qxf1,Qc7,Qc4,Qxd6+,Kf7,Rc2,Qd5', 'Rc7+,Bd7,Rxd7+', 'https://lichess.org/training/lJsHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJssj', 'Blitz', 'victor325', 2406, 'NM pneumatico94', 2438, 'c4,e5,Nc3,Nc6,g3,Nf6,Bg2,Bb4,Nd5,Bc5,e3,d6,Ne2,Nxd5,cxd5,Ne7,O-O,O-O,d4,exd4,Nxd4,Ng6,a3,a5,Bd2,a4,Bb4,Bxb4,axb4,Bd7,b5,Ra5,Rxa4,Qa8,Rxa5,Qxa5,Qa1,Ra8,Qxa5,Rxa5,Rc1,h5,h4,Bxb5,b4,Ra2,Nxb5,Ne5,Nd4,Nd3,Rc2,Ra1+,Kh2,Ne5,Bh3,c5,dxc6,bxc6,Nxc6,Nf3+,Kg2,Ne1+,Kh2,Nxc2,Bd7,Rb1,b5,Nb4,Na5,Nd3,Nc4,Kf8,b6,Ke7', 'Bf5,Rb4,Bxd3', 'https://lichess.org/training/lJssj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LjUdh', 'Classical', 'MethodicaL', 1927, 'konst767', 1841, 'e4,c6,d4,d5,Nc3,dxe4,f3,Nd7,fxe4,Ngf6,Nf3,e6,Bg5,Be7,Bd3,O-O,Qd2,b6,O-O-O,Bb7,e5,Nd5,Ne4,c5,Nd6,Bc6,c4,Nb4,Bb1,Bxf3,Bxe7,Qxe7,gxf3,Nc6,Rhg1,Nxd4,Qh6,g6,Rg5,Nf5,Bxf5,exf5,Rh5,f6,e6,Ne5,Nf7,Rxf7,exf7+,Qxf7,Rh4,g5,f4,Ng4,Rxg4,fxg4,fxg5,Qxc4+,Kb1,Qe4+,Ka1,Qg6,Qh4,Qxg5,Qg3,Rf8,a3,Rf7,Rd8+,Kg7,Qb8,Kh6,Rg8,Rg7,Rf8,Qe5,Qd8,Qg5,Rxf6+,Rg6', 'Qf8+,Kh5,Rf5', 'https://lichess.org/training/LjUdh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LjUjZ', 'Classical', 'comedam', 1699, 'iammishgan', 1768, 'd4,d5,c4,dxc4,e4,e5,d5,b5,a4,Ba6,axb5,Bxb5,Bxc4,Bxc4,Qa4+,Nd7,Qxc4,Bc5,Nf3,Qf6,Bg5,Qb6,Ra2,Bxf2+,Kd1,Ngf6,Bxf6,Nxf6,Nxe5,O-O,Nc3,Rad8,Nc6,Ng4,Kc1,Be3+,Kb1,Ra8,Na4,Qb7,Nc5,Bxc5,Qxc5,Rfe8,Ne7+,Kh8,h3,Ne5,Nf5,Nd3,Qd4,Ne5,Rf1,f6,g4,h6,Nh4,a5,Qe3,a4,Rxf6,gxf6,Qxh6+,Kg8,Ng6,Nxg6,Qxg6+,Kf8,Qxf6+,Kg8,h4,Ra6,Qg5+,Kf7,Qh5+,Ke7,g5,a3,g6,axb2,Rxb2,Qa7,Qg5+,Kd7,g7,Ra1+,Kc2,Qc5+,Kd3,Rd1+,Rd2,Qa3+,Ke2,Rxe4+,Kxd1,Qa1+,Kc2,Qa2+,Kd3', 'Qc4#', 'https://lichess.org/training/LjUjZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ljXza', 'Blitz', 'Circ', 1622, 'DangiDixit', 1611, 'd4,e6,e4,c6,Nc3,Bb4,Bd2,Qb6,a3,Bxc3,Bxc3,c5,Nf3,Nf6,Bd3,Nc6,dxc5,Qxc5,O-O,Ng4,h3,Nge5,Nxe5,Nxe5,Qe2,b6,Kh1,Nxd3,cxd3,Ba6,Rac1,Qd6,Bxg7,Rg8,e5,Qxd3,Qxd3,Bxd3,Rfd1,Be4,f3,Bd5,Bf6,Rg6,Rc7,d6,Rdc1,dxe5,Rc8+,Kd7', 'R1c7+,Kd6,Be7#', 'https://lichess.org/training/ljXza');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJYJc', 'Blitz', 'moenia_mundi', 1728, 'Dmitri_Zhuk', 1850, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,Be7,e5,O-O,Nf3,c5,Bb2,Qb6,Rb1,Nc6,Ba1,Qa5,Qd2,Bd7,Bd3,Rfd8,O-O,h6,Rxb7,cxd4,cxd4,Qxd2,Nxd2,Nxd4,Bxd4,Bg5,Nf3,Bc6,Rb4,Bxf3,gxf3,a5,Ra4,Rd5,Be4,Rxd4,Rxd4,Rb8,Rfd1,g6,Kg2,Rb2,Kg3,Rxa2,f4,Be7,Rd7,Bc5,Rd8+,Kg7,R1d2,Ra4,Bc6,Ra3+,Kg4', 'h5+,Kg5,Be7#', 'https://lichess.org/training/lJYJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJzHw', 'Classical', 'vn23', 1804, 'marklonghurst', 1826, 'd4,d5,c4,e6,Nf3,h6,Nc3,Nf6,Bf4,Bd6,Bg3,a6,cxd5,Nxd5,e4,Nxc3,bxc3,O-O,e5,Be7,Bd3,Bd7,Rb1,b5,Bf4,Bc6,Qc2,f5,exf6,Bxf6,Kd2,Bxd4,Nxd4,Rxf4,Nxe6,Rxf2+,Kd1,Qf6,Qxf2,Qxf2,Rf1,Qxf1+,Bxf1,Ra7,Rb2,Kf7,Nd8+,Ke8,Nxc6,Nxc6,Bd3,Kd7,Bf5+,Kd6,Rd2+,Ke5,g4,Ne7,Rd7,Nxf5,gxf5,Kxf5,Rxg7,Kf6,Rh7,Kg6,Rd7,a5,Kc2,b4,Kb3,a4+,Kxb4', 'c5+,Kb5,Rxd7', 'https://lichess.org/training/lJzHw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lJZXI', 'Rapid', 'messironaldo', 1834, 'JaspherRed', 1881, 'e4,e5,d4,Nf6,dxe5,Nxe4,Bc4,d5,Qxd5,Qxd5,Bxd5,Nc5,Nc3,c6,Bf3,Be6,Nge2,Nbd7,Be3,Nxe5,Nd4,Nxf3+,Nxf3,Be7,O-O-O,O-O,Rhe1,a5,a4,h6,b3,Rad8,Bxc5,Bxc5,Ne4,Bb4,Re3', 'Ba3+,Kb1,Rxd1+', 'https://lichess.org/training/lJZXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lk0Oc', 'Rapid', 'Lord-Universe31', 2363, 'ohohohoh', 2320, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,c4,Nf6,Nc3,g6,Be2,Bg7,Be3,O-O,O-O,Bd7,f3,Nxd4,Bxd4,a5,Nd5,Nxd5,cxd5,a4,Rc1,Qa5,Bxg7,Kxg7,Qd4+,Kg8,Rc3,Rfc8,Rfc1,b5,a3,Rxc3,Rxc3,Rc8,Kf2,Rb8,Kf1,b4,axb4,Rxb4,Rc4,Rb8,Rc1,Bb5,Bxb5,Qxb5+,Kg1,Qxb2', 'Rc8+,Rxc8,Qxb2', 'https://lichess.org/training/lk0Oc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lK3Si', 'Rapid', 'gurcekic', 1619, 'nrcp', 1612, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Qf6,Nc3,Bc5,Be3,Nc6,Nxc6,Bxe3,fxe3,dxc6,Qd2,Ne7,O-O-O,O-O,Bd3,Rd8', 'e5,Qxe5,Bxh7+,Kxh7,Qxd8', 'https://lichess.org/training/lK3Si');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lk4sq', 'Rapid', 'AGUS_97', 1939, 'glebv99', 1948, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,d5,c6,f4,cxd5,c5,Bf5,b4,a5,b5,e6,Be3,Nbd7,c6,bxc6,bxc6,Bb4+,Nd2,Nc5,Bb5,O-O,Nf3,Rb8,a4,Nd3+,Ke2,Nc5,h3,Nfe4,Nxe4,Nxe4,Qd4,Nc3+,Kf2,Ne4+,Kg1,Ng3,Kf2,Nxh1+,Rxh1,Be4,Ng5,h6,Nxe4,dxe4,Qxe4,Qd5,Qxd5,exd5,Rc1,Bd6,c7,Rbc8,Bb6,Rfe8,g3,Re7,Bxa5,Bxc7,Kf3,d4,Ba6,Re3+,Kg4,Bxa5,Rxc8+,Kh7,Rc4,d3,Rd4,d2,Bd3+,g6,Bc2,Re1,h4,Rc1,Bb3,f5+,Kf3,Kg7,Rd7+,Kf6', 'Rf7#', 'https://lichess.org/training/Lk4sq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lK5ow', 'Rapid', 'pyro_flake', 1750, 'diamond92', 1742, 'd3,c5,e4,d6,Bf4,b5,Nf3,a5,d4,b4,Bb5+,Bd7,Bxd7+,Qxd7,dxc5,dxc5,Bxb8,Qxd1+,Kxd1,Rxb8,Nbd2,Nf6,e5,Ng4,Ke2,g6,Nc4,a4,h3,Nh6,Rad1,Bg7,Rd5,Rc8,Nb6,Rc6,Nxa4,c4,b3,cxb3,Nd4,Rc7,cxb3,O-O,Rd1,Nf5,Nxf5,gxf5,f4,Rc2+,R1d2,Rfc8,g3,e6,Rd7,h5,Rxc2,Rxc2+,Rd2,Rxd2+,Kxd2,Bh6,Kd3,h4,Ke3', 'hxg3,Kf3,Bxf4', 'https://lichess.org/training/lK5ow');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lk6ZR', 'Rapid', 'Dacite09', 1926, 'Estebandido26', 1893, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nxc6,dxc6,Nc3,e5,Bc4,Nf6,Bb3,Be7,Be3,Qc7,O-O,O-O,Qe2,a5,a4,Bd7,Rad1,Bb4,f3,Rab8,Na2,Be7,Rd2,b5,axb5,cxb5,Rfd1,h6,Nc3,Bc6,Nd5,Bxd5,Bxd5,Nxd5,Rxd5,b4', 'Rd7,Qc8,Rxe7', 'https://lichess.org/training/lk6ZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lk7NA', 'Rapid', 'zoranmiletic', 1758, 'ivan1904', 1670, 'e4,g6,d4,c6,Nf3,e6,Be2,Nf6,e5,Nd5,c4,Nc7,a4,Nca6,Bg5,Qa5+,Nc3,Bb4,Qc2,c5,Bf6,Rg8,O-O,Nc6,Ng5,h6,Nge4,cxd4,Nb5,Nc5,Nbd6+,Kf8,Nxc5,Bxc5,Qc1,Bxd6,exd6,Qf5,Bh4,g5,Bg3,e5,h3,Qe6,Bg4,f5,Bh5,Qxd6,b3,f4,Bh2,Qf6,Qc2,Rg7,Rab1,d6,b4,g4,hxg4,Bxg4,Bxg4,Rxg4,f3,Rg7,c5,dxc5,Qxc5+,Kg8,b5,Qg5,Rf2,Ne7,Qd6,h5,Qe6+,Kh8,Qh3,Rag8,a5,Nf5,Rbb2,Ne3,b6,axb6,Rxb6,Qxg2+', 'Rxg2,Rxg2+,Kh1', 'https://lichess.org/training/lk7NA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lk9j2', 'Blitz', 'deysson', 1916, 'CM dEadpoOlshIkAmarU', 2136, 'd4,c5,e3,Nf6,Nf3,cxd4,exd4,Nc6,b3,d6,Bb2,g6,Nbd2,Bg7,Bd3,O-O,O-O,Bg4,Qe1,Nb4,Qe3,Rc8,c4,Nxd3,Qxd3,a6,Rab1,Re8,Rbc1,Qa5,a4,Bf5,Qe3,Ng4,Qe2,e5,dxe5,dxe5,h3,e4,Bxg7,exf3,Qxf3,Kxg7,hxg4,Qxd2,gxf5,Qg5,fxg6,hxg6,Rcd1,Rh8,Qc3+,Kg8,Rd3,Re8,Rfd1,Rh4,Rh3,Qg4,Rxh4,Qxh4,g3,Qg4,Qd4', 'Re1+,Rxe1,Qxd4', 'https://lichess.org/training/Lk9j2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lKbJj', 'Rapid', 'MattQatar', 1824, 'pedreros', 2017, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,c3,dxc3,Qd5,Be6,Qb5,Qd7,Bxe6,fxe6,Nxc3,O-O-O,Bd2,Nf6,O-O-O,Ng4,Rhf1,Be7,h3,Nge5,Nxe5,Nxe5,Qa5,a6,Ne2,Nc4,Qc3,Qb5,b3,Nxd2,Rxd2,Bf6,Qc2,Rhf8,g3,h5,Kb1,a5,Rc1,Rd7,Rxd6,Rff7,Rxe6,a4,Re8+,Bd8,Nc3,Qb4,Nd5,Qd4,Rd1,axb3,axb3,Qxf2,Rd2,Qf1+,Kb2,Qb5,Rd4', 'Rxd5,Rxd5,Qxe8', 'https://lichess.org/training/lKbJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LkcdP', 'Blitz', 'iplayagainstpieces', 2318, 'Adft-rt', 2201, 'c4,Nf6,Nc3,e6,Nf3,d5,e3,Be7,b3,O-O,Bb2,b6,cxd5,Nxd5,Nxd5,Qxd5,Qc2,c5,Bd3,f5,e4,Qd8,exf5,exf5,Bc4+,Kh8,Ne5,Bf6,O-O,Qc7,Rfe1,g6,Nf3,Nd7,Ng5,Ne5,Rxe5,Bxe5,Re1,Bxb2,Qxb2+,Qg7,Nf7+,Rxf7', 'Re8+,Rf8,Rxf8#', 'https://lichess.org/training/LkcdP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lKcIH', 'Rapid', 'blackdog58', 1877, 'king32451', 1944, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Nc6,Nc3,Nxd4,Qxd4,Be7,Qxg7,Bf6,Qg3,Ne7,Bf4,Rg8,Qh3,e5,Be3,Rh8,Bc4,d5,Nxd5,Bxh3', 'Nxf6+,Kf8,Bh6#', 'https://lichess.org/training/lKcIH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LKd0D', 'Rapid', 'oguz66', 1874, 'shanat287', 1753, 'e4,e5,Nf3,d6,h3,Be7,Bc4,Nf6,d3,O-O,O-O,c6,a3,b5,Ba2,Qc7,Nh2,d5,exd5,cxd5,f4,Nc6,fxe5,Nxe5,Nc3,Be6,Nxb5,Qb6+,d4,Ned7,a4,a6,Nc3,Rac8,Bb3,Ne5,Kh1,Ng6,a5,Qa7,Na4,Qc7,Nb6,Rcd8,c3,Bd6,Nf3,Ne4,Kg1,Bh2+,Nxh2,Bxh3,Rf3,Be6,Bc2,Nh4,Bf4,Nxf3+,Qxf3,Qe7,Bxe4,dxe4,Qxe4,Qh4,Qe3,Rde8,Bg3,Qh5,Qf2,Bb3,Nd7,Re2,Qf3,Qxf3,gxf3,Rfe8,Nc5,Rxb2,Nxa6,Ree2,Nc5', 'Rg2+,Kh1,Rxg3', 'https://lichess.org/training/LKd0D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lkDHx', 'Rapid', 'Kobera', 1982, 'lissaa', 2173, 'd4,d5,c4,Nf6,Nc3,c6,cxd5,Nxd5,e4,Nb6,Be3,g6,f4,Bg7,Nf3,Bg4,Be2,e6,O-O,O-O,Qc2,Bxf3,Rxf3,Bxd4,Rd1,Bxe3+,Rxe3,Qc7,Red3,N8d7,g3,Nc5,Rd6,Rfd8,Nb5,cxb5,Rxd8+,Rxd8,Rxd8+,Qxd8,Qxc5,Qd2,Qxb5,Qe3+,Kf1,Qxe4,Kf2,Nd5,Qxb7,Qe3+,Kf1,Qc1+,Kg2,Ne3+,Kf3', 'Qh1+,Kxe3,Qxb7', 'https://lichess.org/training/lkDHx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lkEdp', 'Rapid', 'dragansrbija', 1757, 'Dacrion', 1654, 'd4,d5,e3,Bf5,c4,e6,Nf3,Nf6,a3,Be7,Nc3,O-O,h3,Nbd7,cxd5,exd5,Bd3,Bxd3,Qxd3,c5,dxc5,Nxc5,Qb5,a6,Qe2,Nb3,Rb1,Rc8,O-O,Re8,Qd1,Nc5,b4,Nce4,Nxe4,Nxe4,Bb2,Bf6,Bxf6,Qxf6,Rc1,Rxc1,Qxc1,Nc3,Qb2,Rc8,Nd4,Qg6,Rc1,Qd3,Qc2', 'Ne2+,Kh2,Rxc2', 'https://lichess.org/training/lkEdp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LkFHC', 'Rapid', 'Again_Ash', 1792, 'gbs_roco', 1743, 'e4,e5,Nf3,d6,d4,Bg4,Bc4,Qf6,dxe5,dxe5,Nbd2,Nc6,b3,Nd4,Be2,O-O-O', 'Nxd4,Bxe2,Nxe2', 'https://lichess.org/training/LkFHC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LKFtS', 'Classical', 'Kazzim', 1714, 'nettysek', 1836, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,Bb7,Qf3,Nbd7,O-O,Nc5,Re1,Nxb3,axb3,g6,Qg3,b4,e5,dxe5,Qxe5,bxc3,Bg5,Bg7,Bxf6,Bxf6,Qxf6,O-O,Rxe7,cxb2,Rb1,Qd5,f3,Rad8', 'Ne6,Qxe6,Rxe6', 'https://lichess.org/training/LKFtS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LKhWg', 'Rapid', 'JLasley', 2203, 'SANT4JAMZGUITAR', 2119, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d5,cxd5,exd5,a3,Bxc3+,bxc3,O-O,Bg5,h6,Bh4,c5,e3,cxd4,cxd4,Qa5+,Kd1,Bd7,Bxf6', 'Ba4,Qxa4,Qxa4+', 'https://lichess.org/training/LKhWg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LKHXz', 'Rapid', 'lraid', 1866, 'MujCyc13', 1861, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be2,Bg7,Nb3,Nf6,Nc3,d6,O-O,O-O,Kh1,Bd7,Be3,a6,f4,Qc7,a3,Rac8,Qe1,Ng4,Bxg4,Bxg4,h3,Bd7,Rd1,Rfd8,Qf2,Re8,Nd5,Qb8,c3,e6,Nb6,Rcd8,Bc5,Bc8,Nxc8,Qxc8,Bxd6,Rd7,f5,Red8,f6,Bf8,Bxf8,Rxd1,Rxd1,Rxd1+,Kh2,Kxf8,Qh4,h5,Qg5,Qc7+,g3,Qe5,Qh6+,Ke8,Qh8+,Kd7,Qg7,Qxe4', 'Nc5+,Kc8,Nxe4', 'https://lichess.org/training/LKHXz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lKiIF', 'Rapid', 'kaov', 1635, 'FinlandPilotsAreGood', 1604, 'd4,d5,Nf3,Nf6,Bf4,c5,dxc5,e6,Nc3,Bxc5,e3,O-O,Bd3,Bd7,g4,Bb4,h4,Bxc3+,bxc3,a6,h5,Bb5,g5,Nfd7,Bd6,Re8,a4,Bxd3,Qxd3,Qb6,Be5,Nc6,Bd4,Nxd4,exd4,e5,dxe5,Nxe5,Nxe5,Rxe5+,Kd2,Rxg5,Rh2,Qh6,f4,Rxh5,Rxh5,Qxh5,Rf1,Qh2+,Kc1,Rd8,Qd4,Qg2', 'Rg1,Qxg1+,Qxg1', 'https://lichess.org/training/lKiIF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lkjWH', 'Rapid', 'Grandayo', 1629, 'ClarenceMate', 1614, 'e4,g6,Nc3,Bg7,Nf3,e5,d4,exd4,Nxd4,Nf6,Be3,d6,h3,O-O,Qd2,c5,Ndb5,a6,Nxd6,Nc6,Bg5,b5,Nd5,Nd4,Nxc8,Rxc8,O-O-O,Nxe4,Bxd8,Nxd2,Ne7+,Kh8,Nxc8,Nxf1,Rhxf1,Rxd8,Ne7,b4,Rfe1,a5,c3,bxc3,bxc3,Bh6+,Kb1', 'Rb8+,Ka1,Nc2#', 'https://lichess.org/training/lkjWH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LkkAI', 'Rapid', 'michael0522', 1719, 'crissx', 1728, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Bf5,Nf3,a6,O-O,b5,Bb3,e6,Nc3,Nc6,Re1,b4,Na4,Bd6,Nh4,Bg4,f3,Bh5,e4,Nxd4,Qxd4', 'Bxh2+,Kxh2,Qxd4', 'https://lichess.org/training/LkkAI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LKksp', 'Classical', 'pub673', 1921, 'georgeg17', 1811, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,O-O,h3,Bb7,d4,exd4,cxd4,Na5,Bc2,c5,d5,Rc8,Nbd2,Re8,Nf1,Nd7,Ng3,Nc4,b3,Bf6,Rb1,Nce5,Nf5,Nxf3+,Qxf3,Ne5,Qg3,g6,f4,Nd7,Nxd6,Bh4,Qc3,Bxe1,Qxe1,c4,bxc4', 'Qb6+,Qf2,Qxd6', 'https://lichess.org/training/LKksp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LKl3f', 'Classical', 'AlecMusasa', 1762, 'zidman', 1696, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bg4,h3,Bxf3,Qxf3,Nf6,O-O,Be7,Nc3,O-O,Be3,Re8,Rfe1,Bb4,Bd2,Qd6,a3,Ba5,Rad1,b5,Nxb5,axb5,Re2,Bxd2,Rexd2,b4,axb4,Qxb4,c3,Qb3,Kh2,Ra2,Qe2,Nd7,Rc1,Nb6,g4,Rb8,Rcc2,Na4,Qf3,Nxb2,Qf5,f6,Qd7,Qb6', 'Qe6+,Kh8,Qxa2', 'https://lichess.org/training/LKl3f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lkli3', 'Blitz', 'GM Konstantin_Tarlev', 2681, 'FM ElDominicanazo', 2476, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Nc3,Nf6,Bg5,h6,Bh4,O-O,Nd5,g5,Bg3,Re8,f3,Nxd5,Qxd5,d6,O-O-O,a5,a3,a4,Nd2,Be6,Qd3,Ne5,Bxe5,dxe5,Qxd8,Rexd8,Bc4,Rxd2,Rxd2,Bxc4,Re1,Kf8,g3,Ke8,Kb1,Rd8,Rxd8+,Kxd8,Kc1,Ke7,Kd2,Ke6,Rb1,f5,b3,axb3,cxb3,Bb5,exf5+,Kxf5,a4,Bc6,Ke2,g4,fxg4+,Kxg4,Rf1,Bd5,Rf6,Bxb3,Rxh6,Bxa4', 'Rh4+,Kf5,Rxa4', 'https://lichess.org/training/lkli3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lklUN', 'Blitz', 'pathikrit', 1651, 'kuckiducki', 1880, 'e4,c5,Bc4,e6,Qe2,Nc6,c3,a6,a3,Qc7,d3,g6,Nh3,Bg7,Nf4,Nge7,Be3,b6,Nd2,O-O,O-O,Bb7,h4,Rad8,h5,d5,exd5,exd5,Ba2,d4,hxg6,hxg6,Ne4,dxe3,fxe3,Ne5,Ng5,Nf5,d4,cxd4,exd4,Nd7,Nxg6,Ng3,Qf2,Nf6,Nxf8,Rxf8,Bxf7+,Rxf7,Nxf7,Kxf7,Rfe1,Kg8,Re3,Nge4,Qe2,Ng4,Rxe4', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/lklUN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LKm9y', 'Rapid', 'ahmedaboanas', 1912, 'cuadriculados', 1926, 'e4,e6,Nf3,d5,e5,c5,d4,Nc6,c3,Qb6,dxc5,Bxc5,Qd2,Bd7,Be2,Nh6,O-O,Nf5,b4,Be7,a3,a5,b5,Nb8,a4,f6,Qd3,fxe5,Nxe5,Bf6,Bf4,O-O,g4,Nd6,g5,Be7,Be3,Qd8,g6,hxg6,Nxg6,Rf6,Bd4,Rf5,Qh3', 'Rg5+,Kh1,Rxg6', 'https://lichess.org/training/LKm9y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LknZW', 'Rapid', 'AlekseyPanasyuk', 1823, 'adchoadhoc', 1774, 'e4,e5,Nf3,d6,Bc4,Be7,d4,c6,dxe5,dxe5,Nxe5', 'Qa5+,Nc3,Qxe5', 'https://lichess.org/training/LknZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LkOBf', 'Classical', 'e_plaza', 1634, 'NisseSvalas', 1669, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,e6,g3,Nf6,d4,Nd5,Qe2,Nxc3,bxc3,h6,Ne5,Qe7,Bg2,c6,Bb2,Nd7,c4,Nxe5,dxe5,Qb4+,c3,Qb6,O-O,Bc5,Rfd1,O-O,Bc1,f6,exf6,Rxf6,Be3,Bxe3,fxe3,Rf7,Be4,e5,Qd3,Bg4,Rf1,Rd7,Bh7+,Kh8,Qe4,Bh3,Rf2,Re7,Bf5,Bxf5,Rxf5,Qb2,Rb1,Qe2,Rxe5,Rf7,Re8+,Rxe8', 'Qxe8+,Kh7,Qxf7,Qxe3+,Qf2,Qxf2+,Kxf2', 'https://lichess.org/training/LkOBf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LkObn', 'Rapid', 'plnka', 1772, 'nik854', 1911, 'd4,e5,dxe5,d6,Nf3,Nc6,exd6,Bxd6,Nc3,a6,Bg5,Nf6,e3,Bg4,Nd5,Be7,Nxe7,Qxe7,Be2,Qb4+,Qd2,Qxb2,O-O,Bxf3,Bxf3,O-O,Rfb1,Qe5,Bf4,Qf5,Rxb7,Ne4,Qd3,Rfe8,Rxc7,Rad8,Qxa6,Nb4,Qc4,Nd5,Rc5,Qf6,Rxd5', 'Qxa1+,Qf1,Qxf1+,Kxf1,Rxd5', 'https://lichess.org/training/LkObn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LKoTS', 'Bullet', 'pikachu_3', 1667, 'ynassar555', 1606, 'd4,Nf6,c4,d5,e3,e6,Nc3,Be7,Bd2,b6,Nf3,Ba6,cxd5,Bxf1,dxe6,Bxg2,exf7+,Kxf7,Rg1,Bxf3,Qxf3,Nd7,Qg2,Nh5,Ne4,Ndf6,Ng5+,Kg8,Ne6,Qd5', 'Qxg7+,Nxg7,Rxg7#', 'https://lichess.org/training/LKoTS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lKpLE', 'Rapid', 'Miko539', 1825, 'IvanZh10', 1732, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Nf6,Be3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,Ne2,Be7,O-O,O-O,f4,Bd6,fxe5,Bxe5,Bd4,Bxd4+,Qxd4,Rab8,b3,Rbc8,c3,h6,Nf4,Qb7,Rad1,Rcd8,Qf2,Ne4,Qd4,Nf6,Rf3,Rfe8,Rg3,Kh8,Rf1,Rg8,Nd3,a6,Rxf6,gxf6,Qxf6+,Kh7,Qf5+,Kh8,Rh3,Rd6', 'Qe5+,Kh7,Qxd6', 'https://lichess.org/training/lKpLE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lkq1n', 'Blitz', 'JamesLebron', 2450, 'IM Cryptochess', 2552, 'e4,e5,Bc4,Nf6,d3,c6,Nf3,d5,Bb3,Bd6,O-O,O-O,Nbd2,a5,c3,Na6,Re1,Nc5,Bc2,dxe4,dxe4,Bc7,Qe2,Be6,Nf1,Qe7,Ng3,Rfd8,h3,b5,b3,a4,Ba3,Bd6,Bxc5,Bxc5,Nxe5,Qc7,Nd3,Qxg3,Nxc5,Qxc3,Nxe6,fxe6,bxa4', 'Rd2,Qxd2,Qxd2', 'https://lichess.org/training/lkq1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lKQh1', 'Rapid', 'Anna_Nass', 2002, 'AwareTenacious', 1834, 'd4,Nf6,c4,c5,d5,d6,Nc3,g6,e4,Bg7,Bd3,b5,cxb5,a6,bxa6,Bxa6,Nge2,O-O,O-O,Nbd7,f4,Ne8,Be3,Nc7,Qc2', 'c4,Bxc4,Bxc4', 'https://lichess.org/training/lKQh1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lkqL4', 'Blitz', 'a7em', 1802, 'mehran-amani', 1958, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Bc4,Nf6,h3,Qh5,O-O,Bxf3,Qxf3,Qxf3,gxf3,Nc6,d3,e6,Bf4,O-O-O,Nb5,Bd6,Nxd6+,cxd6,c3,d5,Bb3,e5,Be3,d4,cxd4,exd4,Bf4,Nd5,Bg3,f5,Rac1,g5,h4,f4,Bh2,gxh4,Rfe1,Rhg8+,Kh1,h3,Bxd5,Rxd5,Bxf4,Rf5,Be5,Rxf3,Bxd4,Rxd3,Bxa7,Rd2,b4,Rxa2,Be3,Kd7,b5,Nb4,Red1+,Ke6,Rc7,Nd5,Rxh7,Nxe3,fxe3,Rg3,Rxb7,Rxe3,Rb6+,Ke5,Rb8,Rb3,b6,Rbb2,b7', 'Rh2+,Kg1,Rag2+,Kf1,Rh1#', 'https://lichess.org/training/lkqL4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LkRHV', 'Blitz', 'frehos', 1782, 'aleksvlad', 1868, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,f4,Nc6,Nf3,Bg4,c3,e6,O-O,Bd6,Qe1,Qc7,Ne5,Bh5,Nd2,O-O,Ndf3,Rae8,Qh4,Bg6,Nxg6,fxg6,Ne5,Ne4,Rf3,Rf5,Qe1,Ref8,Bxe4,dxe4,Qxe4,Nxe5,fxe5,Be7,Be3,Qc4,Qxb7,Bd8,Rxf5,Rxf5,Qb3,Qe2,Qxe6+,Kf8,Qd6+,Be7,Qb8+,Kf7,Qb3+,Kf8,Qb8+,Kf7,Qb3+,Ke8,Qb8+,Bd8,Bg5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/LkRHV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lksrg', 'Classical', 'Aqueleque', 1873, 'mohammedamr', 1855, 'e4,e6,d4,d5,Nc3,Bb4,Ne2,c5,exd5,exd5,dxc5,Nc6,a3,Bxc5,Qxd5,Qxd5,Nxd5,Bd6,c4,Be6,Nef4,Bxf4,Bxf4,Bxd5,cxd5,Nd4,Bd3,Nf6,Be5,Nb3,Rd1,Rd8,Bc4,Nc5,Bb5+,Ncd7,Bc7,Rc8,d6,O-O,O-O,Rfe8,g4,a6,Bxd7,Nxd7,f4,Re4,h3,Rce8,Rd2,f6,Kg2,b6,b4,Kf7,f5,Rc4,Rd3,h5,Kg3,hxg4,hxg4,Ne5,Rf4', 'Rxf4,Kxf4,Nxd3+', 'https://lichess.org/training/Lksrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LKTqB', 'Blitz', 'FM Keipo', 2241, 'TomBus1960', 2143, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Be2,Nd7,O-O,b6,a4,Bb7,Qe3,Qe7,a5,bxa5,Rxa5,Rfc8,Nd2,Qb4', 'Rb5,Qd6,Rxb7', 'https://lichess.org/training/LKTqB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lKTxL', 'Rapid', 'lopinnho2016', 1832, 'Vijay85', 1716, 'd4,d5,c4,e6,Nf3,c5,Nc3,Nf6,Bg5,Be7,e3,O-O,Bd3,Nc6,Rc1,Nb4,Bb1,a6,a3,Nc6,cxd5,cxd4,Nxd4,Nxd5,Bxe7,Ncxe7,O-O,e5,Nde2,f5,Ba2,Be6,Qa4,Kh8,Rfd1,b5,Qc2,Rc8,Qb1,Qd7,Nxd5,Nxd5,Rxc8,Rxc8,Nc3,Qf7,Qd3,e4,Qd4,Nxc3,Bxe6,Qxe6,bxc3,Qc6,h3,h6,Qe5,Qxc3', 'Rd8+,Rxd8,Qxc3', 'https://lichess.org/training/lKTxL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lKUK4', 'Blitz', 'drillsergeant', 1738, 'vinicius-st', 1774, 'e4,c5,Nc3,d6,f4,Nf6,Nf3,e6,Bc4,Be7,O-O,h6,Qe1,a6,d3,b5,Bb3,Bd7,f5,e5,Nd5,Nxd5,Bxd5,Bc6,Bb3,a5,a3,Nd7,Qg3,Bf6,Be3,Qb6,Nh4,Qd8,Ng6,fxg6', 'Qxg6+,Ke7,Qf7#', 'https://lichess.org/training/lKUK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LKyNj', 'Rapid', 'B52-Omega', 1693, 'TheNextBattle', 1747, 'g3,e6,Bg2,h5,b3,h4,Bb2,h3,Bf3,f6,Bg4,e5,Bxh3,b6,Bg2,Nc6,c4,Bb7,Nc3,a6,d3,Nge7,Qd2,Nf5,e3,Bb4,a3,Bxc3,Bxc3,Qe7,g4,Nh4,f3,Nxg2+,Qxg2,O-O-O,Ne2,Qc5,d4,exd4,exd4,Nxd4,Bxd4,Qc6,Rf1,d5,f4,Rhe8,O-O-O,b5,c5,Re4,Rf2,Rde8,Ng3,Rxd4,Rxd4', 'Qxc5+,Rc2,Qxd4', 'https://lichess.org/training/LKyNj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lkyYJ', 'Rapid', 'vegansteak', 2101, 'joserre54', 2180, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Nc6,O-O-O,Qc7,g4,b5,Nxc6,Qxc6,Bd3,b4,Ne2,Bb7,Bxf6,Bxf6,g5,Be7,Kb1,Rc8,h4,a5,Nd4,Qb6,f5,e5,f6,gxf6,gxf6,Bf8,Nf5,a4,b3,axb3,axb3,Ra8,Kb2,Qc5,Bc4,Ba6,Bd5,Rc8,Rh2,Rg8,Rhd2', 'Qc3+,Qxc3,bxc3+,Kb1,cxd2', 'https://lichess.org/training/lkyYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LkzBq', 'Rapid', 'farahdz', 1835, 'qwertymalina', 1872, 'e4,d6,d4,h6,f4,g5,Nf3,gxf4,Bxf4,Bg7,Bc4,Nd7,Nc3,Nf8,Qd2,c6,O-O-O,a5,a4,Qb6,h3,Ne6,Be3,h5,d5,Nc5,Ng5,Nh6,Rhf1,Bf6,Rxf6,exf6,Bd4,Ng8,dxc6,bxc6,Bxf7+,Ke7,Bxg8,Rxg8,Nh7,Rg6,Rf1,Be6,Nxf6,Rf8,e5,dxe5,Bxe5,Qd8,Qf2,Nd7,Qa7,Rfxf6,Bxf6+,Rxf6,Rd1,Qb6', 'Rxd7+,Bxd7,Qxb6', 'https://lichess.org/training/LkzBq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ll06y', 'Rapid', 'xXx_darkbruh_xXx', 1822, 'HBT20', 1850, 'd4,d5,c4,dxc4,e4,e5,d5,c6,Bxc4,cxd5,exd5,Bc5,Nf3,Qf6,Bg5,Qf5,O-O,e4,Re1,Nf6,Nc3,O-O,Bxf6,exf3,Bxg7,fxg2,Bd4,Bd6,Ne4', 'Bxh2+,Kxg2,Qh3+', 'https://lichess.org/training/ll06y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LL2bU', 'Rapid', 'ALC1975', 1881, 'Mmfy', 1855, 'd4,Nf6,Bg5,c6,Nf3,d5,e3,Bg4,Be2,Nbd7,c3,Bxf3,Bxf3,e5,dxe5,Nxe5,Be2,Be7,Nd2,h6,Bh4,O-O,O-O,Bd6,Nb3,Ng6,Bg3,Bxg3,fxg3,Ne5,Nd4,Re8,Qc1,Qb6,Kh1,Rac8,Nf5,Ne4,Bf3,Ng5,Nd6,Nd3,Qd2,Qxe3', 'Qxe3,Rxe3,Nxc8', 'https://lichess.org/training/LL2bU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ll3xu', 'Classical', 'Constantin24', 1735, 'rudi-kusaman', 1712, 'e4,e5,d3,Nf6,Bd2,Bc5,Be2,O-O,h4,d5,g4,dxe4,g5,exd3,Bxd3,Ng4,Nh3,e4,Be2,Ne5,Bc3,Re8', 'Qxd8,Rxd8,Bxe5', 'https://lichess.org/training/ll3xu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LL8R3', 'Rapid', 'renatherion', 1821, 'Tepavcevic', 1752, 'd4,g6,c4,Bg7,Nc3,Nf6,b3,Nc6,Bb2,Nh5,e3,d6,Be2,Nf6,Nf3,b6,O-O,Bb7,d5,Nb4,a3,Na6,Rc1,O-O,Qc2,c5,dxc6,Bxc6,Nd5,Rc8,Nxf6+,exf6,Nd4,Bd7,Bf3,b5,Qd2,bxc4,Rxc4,Nc5,b4,Na4,Rxc8,Qxc8,Ba1,Be6,Rc1,Qd7,Nxe6,Qxe6,Bd5,Qf5,Bb3,Nb6,Qxd6,Qg5,Qc7,Nd5,Bxd5,Qxd5,Qc5,Qd2,Qc3,Qd7,Qd4,Qa4,Bb2,h5,h4,Kh7,g3,Rg8,Qe4,Rd8,g4,f5,gxf5,Bxb2,fxg6+,Kg7,Rc7,Qd1+,Kh2', 'Qd6+,Kg2,Qxc7', 'https://lichess.org/training/LL8R3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LladH', 'Blitz', 'IM DrMelekess', 2618, 'john-orlando99', 2353, 'd4,d6,Nf3,Nf6,Nbd2,Bf5,e3,Bg6,Bd3,e6,e4,c6,O-O,Nbd7,Qe2,Qc7,Nc4,e5,c3,Be7,a4,a5,Nh4,O-O,Nxg6,hxg6,g3,b5,axb5,cxb5,Ne3,b4,Bd2,bxc3,Bxc3,exd4,Bxd4,Ne5,f4,Nxd3,Qxd3,Qb7,Rfe1,Rfc8,Re2,a4,Bxf6,Bxf6,Rb1,Qb6,Kh1,Rab8,Nd5,Qb3,Qxb3,Rxb3,e5,dxe5,fxe5,Bd8,Ra1,Rc5,Nf4,Rc4,e6,fxe6,Nxe6,Bf6,Ra2,Rcb4,Nc5,Rxb2,Rexb2,Bxb2,Nxa4,Bd4,Kg2,g5,Kf3,Kh7,Ke4,Kh6,Kd5,Kh5,Rd2,Bf6,Nc5,g4,Ne4,Rb5+,Kc4,Rb6,Kd3,Be7,Rf2,Rb3+,Kc4,Re3,Kd4,Ra3,Rf5+,g5,Rf7,Ra4+,Kd5,Ra5+,Ke6,Bd8,Rf8,Ra6+,Kd5,Be7,Rh8+,Kg6,Rg8+,Kf5,Nd2', 'Rd6+,Kc4,Rxd2', 'https://lichess.org/training/LladH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLahI', 'Rapid', 'jozooo11234567', 1736, 'Gogo78', 1707, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nc6,Be3,e5,Nb3,Nf6,Nc3,Bb4,Bd3,O-O,O-O,d6,Nd5,Nxd5,exd5,Ne7,c3,Ba5,c4,Bb6,Nd2,Bxe3,fxe3,Ng6,Ne4,Qb6,Qd2,f5,Ng5,e4,Be2,Ne5,b3,h6,Nh3,Ng6,Bh5,f4', 'Bxg6,Bxh3,gxh3', 'https://lichess.org/training/lLahI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLaPd', 'Rapid', 'farzadkh', 1841, 'Muleskinner', 2099, 'd4,Nf6,Bf4,c5,c3,e6,Nf3,d5,e3,Nc6,Bd3,Be7,Ne5,O-O,Nd2,c4,Bc2,a6,Nxc6,bxc6,Be5,a5,Nf3,Bd6,h3,a4,a3,Rb8,Rb1,c5,O-O,cxd4,exd4,Ne4,Bxg7', 'Kxg7,Bxe4,dxe4', 'https://lichess.org/training/lLaPd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llaUz', 'Blitz', 'Garegin2010', 1530, 'MkrtchyanRobert', 1549, 'e4,c5,Nf3,e6,d3,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Bf4,Nc6,Be2,g6,O-O,Bg7,Re1,Bxb2,Rb1,Bg7,d4,cxd4,Rb5,Qd7,Bd3,b6,Ne5,Nxe5,Bxe5,Bxe5,Rbxe5,O-O,Qf3,Bb7,Qf6,Rfe8,R5e2,Qe7,Qxe7,Rxe7,Re5,Rc8,Rb1,Bd5,c4,Bxc4,Bxc4,Rxc4,Ree1,f5,Red1,e5,Rb5,e4,Re1,d3,Rd5,Rec7,h3,Rc2,Kh2,Re2,Rd1,Rcc2,Rd8+,Kg7,Rd7+,Kh6,g4,d2,Rg1,Rc1', 'g5+,Kh5,Rxh7#', 'https://lichess.org/training/llaUz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLAWv', 'Rapid', 'arima228', 1826, 'szura', 1809, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,e6,Nf3,O-O,e5,Ne8,Bd3,d6,O-O,dxe5,dxe5,Nc6,Re1,Ne7,Bf4,Nc6,Qd2,f5,Bh6,Nd4,Bxg7,Nxf3+,gxf3,Nxg7,Rad1,b6,Qh6,Bb7,Bxf5', 'Nxf5,Rxd8,Nxh6', 'https://lichess.org/training/lLAWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLBjE', 'Blitz', 'mpetrashev', 1844, 'PennyWise86', 1904, 'f4,d5,Nf3,c6,e3,e6,b3,Bd7,Bb2,f6,d3,Bd6,Nbd2,Ne7,Qe2,Qb6,O-O-O,Na6,g4,Nb4,a3,Na6,g5,Rf8,gxf6,gxf6,Nd4,Qa5,Qh5+,Kd8,a4,b5,axb5,cxb5,Bh3,f5,Qh6,Nc6,Nxe6+,Bxe6,Qxe6,Kc7,Bxf5,Rxf5,Qxf5,Nab4,Qxh7+,Kb6,Qg6,Na2+,Kb1,Bb4,Bd4+,Bc5,Qf6,Bxd4,exd4,Nc3+,Kb2', 'Qa2+,Kxc3,b4#', 'https://lichess.org/training/lLBjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LLBnm', 'Bullet', 'margsanj', 1546, 'buechelbart', 1516, 'd4,Nf6,e3,g6,f4,Bg7,Nf3,O-O,Bd3,d6,O-O,Nbd7,Nbd2,Re8,c3,e5,fxe5,dxe5,dxe5,Nxe5,Bc2,Bg4,Qe1,Nxf3+,Nxf3,Nd5,Nd4,c5,Qg3,cxd4,exd4,Be6,Bd2,Qc7,Qf3,Qb6,Bb3,a5,Bxd5,Bxd5,Qxd5,Qxb2,Qxf7+,Kh8,Bg5,Rf8,Qb3,Rxf1+,Rxf1,Qe2,Bf4,Rf8,g3,h6,Qd1,Qc4,Be5,Rxf1+,Qxf1,Qxc3', 'Qf8+,Kh7,Qxg7#', 'https://lichess.org/training/LLBnm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LLBtL', 'Classical', 'ili123', 1700, 'LinkanH', 1655, 'c4,e5,Nc3,Bc5,g3,Nc6,Bg2,Nf6,Nf3,e4,Ng5,h6,Ngxe4,Nxe4,Nxe4,Bb6,d3,d6,Rb1,Bf5,b4,Nxb4,Rxb4,Ba5,Bd2,Bxb4,Bxb4,O-O,O-O,Re8,Nc3,a5,Ba3,Qf6,Nd5,Qd8,e4,Bd7,Nf4,b5,cxb5,Bxb5,Bb2,g6,Qb3,Rb8,Qc3,Re5,Nxg6,fxg6,f4,Re7,Qh8+,Kf7,Qg7+,Ke8,Qxg6+,Kd7,Qg4+,Kc6,e5+,Kb6,Bd4+,c5,Bf2,dxe5,Qf5,exf4,Qxc5+,Ka6,Rb1,Qe8,Qd6+,Bc6,Rxb8,Re1+,Bxe1', 'Qxe1+,Bf1,Qe3#', 'https://lichess.org/training/LLBtL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLc7b', 'Rapid', 'lari_ka', 2215, 'CodyJarrett', 2187, 'h3,c5,e3,g6,Nf3,Bg7,Nc3,Nf6,b3,a6,a4,d5,Bb2,Nc6,g3,e5,d3,O-O,Bg2,Re8,e4,d4,Nb1,Rb8,Na3,b5,Bc1,h6,O-O,Nh5,Bd2,Be6,Qe2,Qd7,Kh2,Rec8,Ng1,Nd8,axb5,axb5,f4,exf4,gxf4,f5,e5,Bf8,Nf3,Kh7,Ra2,Nc6,Rfa1,Ne7,Nb1,Nd5,Ra7,Rc7,Rxc7,Qxc7,Ra6,Rb6,Ba5,Qb7,Rxb6,Nxb6', 'Ng5+,hxg5,Bxb7', 'https://lichess.org/training/lLc7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLcm8', 'Blitz', 'IM MerVit', 2360, 'KubiXPL', 2291, 'g3,Nc6,Bg2,d6,b3,Nf6,Bb2,Bh3,Nxh3,g6,O-O,Bg7,d3,O-O,Nd2,e5,e4,Qd7,f4,exf4,Nxf4,g5,Nd5,Nxd5,Bxg7,Kxg7,exd5,Ne5,Qh5,h6,Ne4,f5,Nxg5,hxg5,Qxg5+,Kh7,Rf4,Ng6,Raf1,Qe7,Qh5+,Kg7,Rxf5,Rxf5,Rxf5,Qe3+,Kh1,Re8,Rf1,Re5,Qg4,Re7,Be4,Qh6,h4,Re5,d4,Re7,h5,Rxe4,Qxe4,Qxh5+,Kg2,Qg5,Qf3', 'Nh4+,Kh3,Nxf3', 'https://lichess.org/training/lLcm8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LlD34', 'Rapid', 'Petr_ova', 2004, 'arwed_grey', 1794, 'e4,c5,Nf3,d6,c3,d5,exd5,Qxd5,Be2,Nf6,d3,g6,O-O,Bg7,d4,cxd4,Nxd4,O-O,Bf3,Qa5,Re1,Re8,Qb3,Qc7,Bg5,Nc6,Nb5,Qb6,N1a3,a6,Be3,Qd8,Rad1,Bd7,Nd4,Nxd4,Bxd4,b5,Bxf6,Bxf6,Qd5,Be6,Qxa8,Qxa8,Bxa8,Rxa8,Nc2,Bxa2,Nb4,Bc4,Rd7,a5,Nc2,a4,Red1,Bb3,Rd8+,Rxd8,Rxd8+,Kg7,Nd4', 'e5,Nxb3,Bxd8', 'https://lichess.org/training/LlD34');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llDNv', 'Classical', 'alirezaansari1248', 1777, 'Wowochka-1', 1819, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c4,c6,cxd5,cxd5,Qa4+,Bd7,Bb5,a6,Bxd7+,Qxd7,Qxd7+,Nbxd7,O-O,Ne4,Re1,Bb4,Bd2,Bxd2,Nfxd2,O-O,Nxe4,dxe4,Rxe4,Rac8,Nc3,Rfd8,Nd5,Kf8,Rae1,Rc2,R1e2,Rc1+,Re1,Rc2,R1e2,Rc1+,Re1,Rc2,R4e2,Rc4,Rd1,Nb8,Re5,Nc6,b3,Rxd4,Rxd4,Nxd4,Ne3,g6,g3', 'Nf3+,Kf1,Nxe5', 'https://lichess.org/training/llDNv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLdUr', 'Blitz', 'H_M_S', 2209, 'tranquilin', 1654, 'd4,d5,Nf3,Nf6,g3,e6,Bg2,Bd6,O-O,Nc6,c4,dxc4,Qa4,Bd7,Qxc4,O-O,Nc3,a6,e4,b5,Qd3,Bb4,e5,Ng4,h3,Nh6,Bxh6,gxh6,Nd2,f5,exf6,Qxf6,Nde4,Qf5,Qe3,Rad8,Qxh6,Qg6,Qxg6+,hxg6,Nc5,Nxd4,Nxd7,Rxd7,Ne4,Kg7,Rfd1,Ne2+,Kh2,Rxd1,Rxd1,e5,a3,Ba5,Nc5,Nd4,Nxa6,Rxf2,Nc5,Rxb2,a4,Nf3+,Kh1,Nd4,axb5,Rxb5,Ne4,Ne2,Rd7+,Kh6,g4,Rb1+,Kh2,Nf4', 'g5+,Kh5,Rh7#', 'https://lichess.org/training/lLdUr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLFtC', 'Classical', 'spyzz7', 1888, 'laurent92', 1756, 'Nf3,d5,e4,dxe4,Ng5,Nf6,Nc3,Bf5,Qe2,Qd4', 'Qb5+,Nbd7,Qxf5', 'https://lichess.org/training/lLFtC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LLG5B', 'Rapid', 'natik1069', 1785, 'drasko111', 1676, 'd4,e6,Bf4,d5,e3,c5,c3,cxd4,exd4,Bd6,Bg3,Bxg3,hxg3,Nc6,Nf3,e5,dxe5,Bg4,Be2,Bxf3,Bxf3,Nxe5,Qa4+,Qd7,Qxd7+,Kxd7,Bxd5,Ne7,Bxb7,Rab8,Be4,Rxb2,O-O,Re2,Rd1+,Kc7,f3,Ng4,Na3,Ne3,Nb5+,Kb8,Rd7,Ng6,Rb7+,Kc8,Nxa7+,Kd8,Rb8+,Ke7,Rb7+,Kf8,Bxg6', 'Rxg2+,Kh1,hxg6#', 'https://lichess.org/training/LLG5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llgRF', 'Rapid', 'essmigel', 1664, 'Juliancito_1024', 1660, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d4,exd4,Ng5,d5,exd5,Na5,Qxd4,Nxc4,Qxc4,h6,Nxf7,Kxf7,d6+,Be6,dxc7,Qe7,Qe2,Bc4,Qxe7+,Bxe7,b3,Ba6,c4,Rac8,O-O,Bd6,Be3,Be5,Nc3,Bxc3,Rac1,Be5,Bxa7,Rxc7,Rfe1,Re8,Kh1,Bd6,Red1,Bc5,Bxc5,Rxc5,Rd4,Rc7,Rcd1,Rce7,h3,Re1+,Rxe1,Rxe1+,Kh2,Re8,c5,Be2,a4,Bh5,Rb4,Rb8,c6,Ne8', 'Rxb7+,Rxb7,cxb7', 'https://lichess.org/training/llgRF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLH4P', 'Rapid', 'cajohnm', 1760, 'cnv', 1872, 'e4,e5,f4,Nc6,Nf3,Nf6,Nc3,Bb4,d3,Bxc3+,bxc3,d6,fxe5,dxe5,Be2,h6,O-O,a6,Ba3,Be6,Qb1,b6,c4,Nd4,Re1,c5,Nxd4,exd4,Qb2,O-O,c3,Re8,cxd4,cxd4,Rab1,Rb8,Qd2,Ng4,Qf4,Qg5,Qxg5,hxg5,h3,Ne3,Bb2,Red8,Bc1,f5,Bxe3,dxe3,Bf3,Rxd3,exf5,Bxc4,Be4,Rc3,a4,b5,axb5,axb5,Red1,Re8,Bd5+,Kh8,Bxc4,bxc4,Re1,e2,Rb2,Rce3,Kf2,c3,Rbxe2,Rxe2+,Rxe2,Rf8,g4,Rc8,Rc2,Kg8,Ke3,Kf7,Kd3,Kf6,Rxc3', 'Rxc3+,Kxc3,Ke5,Kd2,Kf4', 'https://lichess.org/training/lLH4P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llHoL', 'Rapid', 'namaskar77', 1982, 'pyones', 1898, 'd4,d5,c4,c6,Nf3,Bg4,Nc3,Bxf3,exf3,Nf6,Be2,Nbd7,b3,Qb6,Bb2,e6,Na4,Qb4+,Bc3,Qd6,c5,Qf4,Bd2,Qc7,O-O,Be7,Nb2,O-O,Nd3,a6,Qc2,Rac8,Nf4,b5,a3,e5,dxe5,Qxe5,Rfe1,Qc7,Bxb5,Bxc5,Bxa6,Ra8,b4,Rxa6,bxc5,Rfa8,Qc3,Ra5,Nd3,Qa7,Bc1,h6,Bb2,Nxc5,Ne5,Qb6,Ng4,Ncd7,Re7,d4,Qxd4,Qxd4,Bxd4,Nxg4,Rxd7,Nf6,Bxf6,gxf6,Rd6,Rxa3,Rf1,Rc3,Rxf6,Kg7,Rd6,Rc2,h3,Raa2,g3,c5,Kg2,c4,Rd4,Ra8,Re1,c3,Re3,Raa2,Re1,Rxf2+,Kg1,Rg2+,Kh1,Rab2,Rc1,Rh2+,Kg1,Rbg2+,Kf1,Rb2,Kg1,Rhc2,Rxc2,Rxc2,Rc4,Rc1+,Kf2,Kf6,Ke2,Ke5,Kd3,Rf1,f4+,Kd5,Rxc3', 'Rf3+,Kd2,Rxc3,Kxc3,Ke4,g4,Kxf4,Kd4,Kg3', 'https://lichess.org/training/llHoL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LLhRo', 'Blitz', 'Andrupro', 1575, 'Romochka621', 1658, 'e4,b6,d4,a5,Nf3,Bb7,d5,c6,c4,cxd5,cxd5,e6,Bc4,Ba6,Bxa6,Nxa6,dxe6,fxe6,O-O,Nf6,Bg5,Be7,Nc3,O-O,a4,d5,exd5,Nxd5,Bxe7,Nxe7,Qb3,Nc5,Qc4,Rc8,Qa2,Ng6,Ng5,Qxg5,f3,Nf4,b3,Ncd3,g3,Rxc3,b4,Nh3+,Kg2,Ndf4+,Kh1,Qd5,gxf4,Qd3,Qxe6+,Kh8,Qxh3,Rxf4,Rg1,h6,Qg3,Rf7,Rae1,Qd5', 'Re8+,Kh7,Qg6#', 'https://lichess.org/training/LLhRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LlIIU', 'Blitz', 'lmehrdad64', 2084, 'The-Legend27', 2166, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,exd6,Qxd6,Nc3,Bg4,h3,Nxc3,bxc3,Bxf3,Qxf3,e6,Bf4,Qd7,Bb5,Bd6,Be3,Rc8,O-O,a6,Ba4,O-O,Qh5,Bb8,Bc2,g6,Qh6,Qd6,g3,e5,Be4,exd4,cxd4,Nxd4,Bxb7,Ne2+,Kh1,Rc2,Rae1,Nxg3+,fxg3,Qxg3,Qxf8+,Kxf8', 'Bh6+,Kg8,Re8#', 'https://lichess.org/training/LlIIU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LlK5T', 'Rapid', 'klenoff', 1650, 'DWZ_ist_alles', 1621, 'd4,d5,Nc3,Nf6,h3,Bf5,Bf4,e6,a3,c5,e3,cxd4,exd4,Nc6,Nf3,Rc8,Bd3,Bxd3,Qxd3,Be7,Nb5,O-O,O-O,Qb6,a4,a6,Nd6,Bxd6,Bxd6,Rfd8,Ba3,Na5,b3,Rc7,Rac1,Rdc8,Bc5,Qc6,Ne5,Qe8,b4,Nc6,b5,axb5,axb5,Nxe5,Qe2,Nc4,b6,Rc6,c3,Nxb6,Rb1,Nfd7,Rb3,Nxc5,dxc5,Nc4,Rxb7,Rxc5,Rfb1,Nd6,R7b6,Nc4,Rb7,Na5,Ra7,Qd8,Qa2,Nc4,Rc1,Ra5,Rxa5,Qxa5,Qe2,Nd6,Qd3,Ne4,f3,Nxc3,Kh2,Qc7+,g3,Qb7,h4,Na4,Ra1,Qb2+,Kh3,Qxa1,Qa6,Qh1+,Kg4,Rc4+,f4,f5+,Kg5,h6+,Kg6,Qc1', 'Qxe6+,Kh8,Qe8#', 'https://lichess.org/training/LlK5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLkn9', 'Rapid', 'marclanc', 1752, 'khaso', 1787, 'd4,e6,a3,d5,e3,c5,c4,Nf6,Nf3,Nc6,Ne5,Nxe5,dxe5,Nd7,f4,Be7,Be2,dxc4,Bxc4,O-O,O-O,a6,Nc3,b5,Bd3,c4,Be4,Rb8,b3,Nc5,bxc4,Nxe4,Nxe4,bxc4,Qg4,c3,Nxc3,Bb7,f5,Rc8,f6,g6,fxe7,Qxe7,Ne4,f5,Qg5,Qc7,Nf6+,Kg7,Nh5+,Kh8,Nf6,Rcd8,Bb2,Rd2,Bd4,Rxg2+,Qxg2,Bxg2,Kxg2,Qc2+,Rf2,Qa4,Bc5', 'Qc6+,e4,Qxc5', 'https://lichess.org/training/lLkn9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LlMom', 'Rapid', 'BlackjackDecay', 1647, 'angelgab1', 1763, 'e3,e5,d4,exd4,exd4,d5,h3,Nf6,a3,Bf5,Nf3,Be7,Nc3,c6,Bf4,Nbd7,Ne5,O-O,Ng4,Re8,Be2,a5,Qd2,b5,Nxf6+,Nxf6,g4,Be4,Rg1,Bf8,h4,Bf3,g5,Nd7,O-O-O,Bxe2,Nxe2,b4,a4,c5,dxc5,Nxc5,Qxd5', 'Qxd5,Rxd5,Rxe2', 'https://lichess.org/training/LlMom');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LLmRk', 'Blitz', 'RED0S', 2445, 'FM labestia2017', 2528, 'e4,c6,d3,d5,Nd2,e5,Ngf3,Bd6,g3,f6,Bg2,Be6,O-O,Ne7,a4,d4,Nc4,c5,Nfd2,Nbc6,Bh3,Bxh3,Qh5+,g6,Qxh3,Qd7,Nxd6+,Qxd6,Nc4,Qd7,Qg2,O-O-O,f4,Qe6,Bd2,Rhf8,f5,gxf5,exf5,Nxf5,Qh3,Nce7,Rf2,Kd7,Raf1,Nd6,Qg2,Nc6,Nxd6,Qxd6,Qh3+,Qe6,Qxh7+,Rf7,Qf5,Qxf5,Rxf5,Ke6,Bg5,Rdf8,Bh4,Ne7,Rh5,Nd5,Rh6,Ne3,Rf2,Ng4,Rg6,Nxf2,Kxf2,Rh8,Kf3,Kf5,Rg4,Rfh7,Re4,Ke6,Kg2,f5,Re2,Kd5,Kg1,Re8,Bg5,e4,h4,Re6,Kg2,exd3,Rd2,Re2+,Rxe2,dxe2,Kf2,Ke4,Kxe2,c4,Bf6,d3+,cxd3+,cxd3+,Kd2,b6,Bg5,Rg7,Bf4,Rg6,h5,Rc6,h6,Rc8,Bg5,Rc2+,Kd1,Rh2,Bh4,Ke3,Bg5+,Kf3,Bf4,Rh5,Kd2,Kg4,Kxd3,Rh2,Kc3,Kh5', 'g4+,fxg4,Bxh2', 'https://lichess.org/training/LLmRk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLOUt', 'Rapid', 'lukaTOM', 1766, 'br12', 1856, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,d6,Bd3,Be7,O-O,O-O,h3,c5,Qe3,Bd7,e5,dxe5,Qxe5,Bc6,Bg5,Re8,Rae1,Qd6,Bxf6,Qxf6,Qxf6,Bxf6,Re2,Rxe2,Bxe2,a6,Rd1,b5,Rd6,Rc8,f3,h6,Kf1,b4,Nd1,a5,Ba6,Be5,Bxc8,Bxd6,Ba6,a4,b3,a3,Bd3,g6,Ne3,Bf4,Nc4,Kg7,Kf2,Bb5,g3,Bg5,h4,Bf6,f4,Bd4+,Kf3,Bc6+,Be4,Bd7,Nb6,Be6,Bd5,Bf5,Be4,Bh3,Bd3,h5,Nd5,Bg4+,Kg2,Be6,Nc7,Bd7,Nb5,Bc6+,Kf1,Kf6,Nxd4,cxd4,Kf2,Ke6,Be2,Kd5,Bf3+,Kc5,Bxc6,Kxc6,Kf3,Kd5,g4', 'hxg4+,Kxg4,Ke4', 'https://lichess.org/training/lLOUt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLPGH', 'Rapid', 'Andrey_Yanchuk_09', 1620, 'Kirill52', 1783, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,Nxd4,Bxd4,Qd8,a3,c5,Be3,d6,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd5,Bxb2,Ra2,Bd4,c3,Bf6,Bb5+,Bd7,Nxf6+,Qxf6,Bxd7+,Kxd7,Qd5,Qxc3+,Kf1,Qc1+,Ke2,Qxh1,Qxf7+,Kc6,Qd5+,Kc7,Qf7+,Kb6,Rb2+,Ka5,Qxb7,Rhb8', 'Rb5+,Ka4,Qa6#', 'https://lichess.org/training/lLPGH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LLpqV', 'Blitz', 'FM lindenice', 2330, 'netsc', 2238, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,e6,d4,cxd4,cxd4,d5,e5,Ne7,Nc3,O-O,g4,Qb6,h4,f6,exf6,Bxf6,Bh6,Bg7,Bxg7,Kxg7,Bxc6,Nxc6,b3,Rf4,Qe2,Nxd4', 'Qe5+,Kg8,Qxf4', 'https://lichess.org/training/LLpqV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llpu6', 'Blitz', 'Om_k10', 1989, 'lalitsahu', 2016, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Qe2,g6,d3,Bg7,Na3,O-O,Bg5,h6,Bxf6,Nxf6,Nb5,a6,Nc3,b5,Rab1,b4,Nd1,Nh5,Ne3,Nf4,Qd2,e6,Nc4,d5,Qxf4,dxc4,dxc4,f5,Rfd1,Qe7,exf5,Rxf5,Qg3,Raf8,Qxg6,e5,Qxa6,e4,Re1,Qe8,a4,Rf4,Nd2,Rxf2,Nxe4,Bd4,Kh1,R2f4,Nxc5', 'Qxe1+,Rxe1,Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/llpu6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LLr9h', 'Rapid', 'KMC____B____KAPMAHE', 1705, 'agrov66', 1679, 'e4,Nc6,d4,e6,Nc3,Nf6,Bb5,Be7,e5,Nd5,Nxd5,exd5,Nf3,b6,Be3,Bb7,O-O,a6,Bxc6,Bxc6,Rc1,d6,c4,dxe5,cxd5,Bxd5,dxe5,Bxa2', 'Qa4+,Qd7,Qxa2', 'https://lichess.org/training/LLr9h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lLRLc', 'Rapid', 'Gregmolos1974', 1898, 'umeshtharaka', 1947, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,O-O,d6,d4,exd4,cxd4,Bb6,h3,h6,a4,Nf6,a5,Bxa5,d5,Ne5,Nxe5,dxe5,Rxa5,b6,Ra4,Bd7,Ra3,Nxe4,Re1,Nd6,Rxe5+,Kf8,Ba2,f6,Rf3,Kg8,Ree3,Nf5,Rc3,Nd6,Qd3,Qe8,Re3,Qf7,Rxc7,Rd8,Rxa7,Qh5,Ba3,Bf5,Qd2,Ne4,d6+,Kh7,Qd5,Qg6,g4,Bxg4,hxg4,Qxg4+,Kf1,Rhe8,Nd2,Qd1+,Re1', 'Nxd2+,Qxd2,Qxd2', 'https://lichess.org/training/lLRLc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LlteJ', 'Rapid', 'luis22palo22', 1835, 'Huskygaze3', 2038, 'e4,c6,d4,d5,e5,c5,c3,Nc6,f4,Nh6,Bd3,cxd4,Nf3,Bg4,O-O,dxc3,bxc3,e6,Nbd2,Bc5+,Kh1,O-O,Qb3,Qb6,Rb1,Qxb3,axb3,Nf5,Bxf5,Bxf5,Ra1,Bd3,Rd1,a6,Bb2,Be3,g3,Rac8,Kg2,Na7,Re1,Bb6,Rac1,Rc7,c4,dxc4,bxc4,Rfc8,Ba3,Ba5,Bd6,Bxd2,Nxd2,Rc6,c5,Nb5,Re3,Bg6,Rb3,h6,Nc4,Be4+,Kf2,Bd5,Rd3,Bxc4,Rxc4,g6,h4,h5,Be7,R6c7,Bf6,Na7,Rcd4,Nc6,Rd7,Rxd7,Rxd7,Na5,Bd8,Nb3,Be7,Nxc5,Bxc5,Rxc5,Rxb7,a5,Ra7,Kg7,Kf3,Rc3+,Kg2,Rc2+,Kf3,Rc5,Ra8,Rd5,Ra7,Rb5,Kg2,Rb2+,Kh3,Rb5,Rc7,a4,Rc4,Ra5,Rc2,a3,Ra2,Ra4,g4,Rxf4,gxh5,Ra4,hxg6,Kxg6,Rg2+,Kf5', 'Rg5+,Ke4,Rg4+,Kxe5,Rxa4', 'https://lichess.org/training/LlteJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llTgr', 'Rapid', 'Artichoke96', 1736, 'kamranqiana', 1875, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,f5,d4,fxe4,Bxc6,dxc6,Nxe5,Qf6,Qe2,Bf5,Bf4,Bd6,Nd2,Ne7,Nxe4,Bxe4,Qxe4,O-O,g3,Nd5,Ng4,Qf7,Bxd6,cxd6,O-O,Rae8,Qd3,Qh5,Ne3,Rf3,Qd1,Ref8,c4', 'Nxe3,fxe3,Rxf1+,Qxf1,Rxf1+', 'https://lichess.org/training/llTgr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llTIS', 'Rapid', 'SteveAndrews', 1675, 'dospy', 1882, 'd4,Nf6,Nf3,e6,e3,c5,c4,cxd4,Nxd4,d5,h3,Nc6,Qa4,Qb6,Be2,e5,Nxc6,bxc6,O-O,Bd7,Qc2,e4,Nd2,Bd6,b3,O-O,Rb1,a5,a3,Be5,f4,Qxe3+,Kh1,Qxe2,fxe5,Nh5,Kh2,e3,Rf3,exd2,Bxd2,Qxe5+,Kg1,g6,Re1,Qd4+,Be3,Qe4,Qc3,Rfe8,Bd2,Qh4,Rxe8+,Rxe8,Re3,Be6,Qxa5,Ng3,Qc7,Nf5,Qxc6,Nxe3,Qxe8+,Kg7,Bc3+,Kh6,Qf8+,Kh5,Qg7,h6,Qe5+,Qg5,g4+,Kh4', 'Be1+,Kxh3,Qg3#', 'https://lichess.org/training/llTIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LLTVH', 'Rapid', 'Dzigibau', 1789, 'ARMAN95', 1902, 'e4,c6,Nf3,d6,d4,d5,e5,Bg4,Be2,e6,h3,Bh5,O-O,Nd7,Nh2,Bxe2,Qxe2,Ne7,Qg4,Ng6,Be3,Be7,Nd2,O-O,f4,c5,f5,exf5,Rxf5,cxd4,Bxd4,Bc5,c3,Ndxe5,Qg3,Bxd4+,cxd4,Nc6,Ndf3,Qb8,Qg4,Qc8,Rxd5,Qxg4,Nxg4,Rad8,Rxd8,Rxd8,Rd1,Nge7,Nfe5,Nxe5,Nxe5,f6,Nc4,Nf5,d5,b5,Na5,Ne3,Rd3,Nxd5,Nc6,Rd7', 'Rxd5,Rxd5,Ne7+,Kf7,Nxd5', 'https://lichess.org/training/LLTVH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LlTws', 'Bullet', 'TorgeirGnagNesefjes', 1656, 'Tri66', 1620, 'c4,Nf6,e3,c5,Qc2,Nc6,a3,e6,Nc3,Ke7,Nf3,Ke8,b3,Be7,Bb2,d5,cxd5,exd5,d3,Bg4,Be2,Qd6,O-O,Kd7,Rad1,Rad8,Nb5,Qe6,e4,Kc8,exd5,Qxd5,d4,Kb8,dxc5,Qxc5,Qxc5,Bxc5,b4,Bb6,Bxf6,gxf6,h3,Bh5,g4,Bg6,Rxd8+,Rxd8,Rd1,Rxd1+,Bxd1,Be4,Nc3,Bxf3,Bxf3,Ne5,Be4,h6,Nd5,Bd4,Nxf6,Nc4,Nd7+,Kc7,Nc5,Bxc5,bxc5,Nxa3,Bd5,f6,f4,Nc2,g5,hxg5,fxg5,fxg5,Kf2,b5,Kg3,b4,Kg4,Nd4,Kxg5,a5,h4,a4,h5,b3,h6,b2,Ba2,Ne6+,Kf6,Nf8,Kg7,Ne6+,Kg8,Ng5,h7', 'Nxh7,Kxh7,Kc6,Kg6,Kxc5', 'https://lichess.org/training/LlTws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lluPu', 'Classical', 'Leeen', 1715, 'luanmoreira11', 1682, 'e4,c5,Nf3,e6,Bc4,Nc6,Nc3,Qc7,d4,cxd4,Nxd4,Nf6,O-O,Be7,Bg5,O-O,Ncb5,Qb6,Nxc6,Qxc6,Bd3,Re8,c4,Nxe4,Bxe7,Rxe7,Qh5,Nf6,Qh4,d5,Nd4,Qd6,cxd5,Qxd5,Rad1,Qxa2', 'Bxh7+,Nxh7,Qxe7', 'https://lichess.org/training/lluPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Llvsx', 'Classical', 'Curefox', 1712, 'asterix123', 1721, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Nc6,h3,Bb4,a3,Bxc3+,bxc3,O-O,Bd3,Re8+,Be3,Ne4,Bxe4,dxe4,Nd2,Qf6,Qe2,Qg6,g4,Ne7,f4,exf3,Nxf3,Nd5,Ne5,Qf6,Kd2,Qh4,Qf2,Qxf2+,Bxf2,Nf4,Rae1,Be6,Rh2,Rad8,Bg3,Nd5,c4,Nb6,Kd3,Bxc4+', 'Nxc4,Rxe1,Bxe1', 'https://lichess.org/training/Llvsx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llWlp', 'Classical', 'chessmachado', 1767, 'springer96', 1695, 'd4,d5,Bf4,e6,Nf3,Bd6,Bxd6,Qxd6,e3,Nc6,Bb5,Bd7,c4,dxc4,Bxc4,Nf6,Nc3,a6,O-O,h6,Qb3', 'Na5,Qc2,Nxc4', 'https://lichess.org/training/llWlp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llx4d', 'Blitz', 'whopper1', 1902, 'Perucciiii', 1859, 'd4,d5,c4,e6,Nc3,Nf6,e3,c5,Nf3,cxd4,exd4,Nc6,cxd5,exd5,Bf4,Bg4,Be2,Bb4,O-O,O-O,a3,Ba5,b4,Bb6,Be3,Re8,b5,Ne7,Ne5,Bxe2,Qxe2,Ng6,f4,Rc8,Na4,Ne4,Nxb6,Qxb6,f5,Nxe5,dxe5,Nc3,Qf3,d4,Bf4,Nxb5,Qg4,Nc3,f6,g6,Qg5,Kh8,Qh6,Rg8,Rf3,Ne2+,Kh1,Nxf4,Rxf4,Qb2', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/llx4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llxNg', 'Rapid', 'qaziali', 1884, 'yalda_61', 1847, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,Bd3,Bb7,O-O,Qc7,Bg5,d6,f4,Nd7,f5,e5,Ne6,fxe6', 'Qh5+,g6,fxg6', 'https://lichess.org/training/llxNg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LLxtB', 'Blitz', 'kasikelatino', 1803, 'XxTDSxX', 1784, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,c3,Bg4,Be2,e6,Ne5,Bxe2,Qxe2,Nc6,Qb5,Qb6,Qxb6,axb6,Nd3,Be7,O-O,O-O,Bf4,Rfd8,Nd2,Na5,Bc7,Rdc8,Bxb6,Nc4,Nxc4,Rxc4,Bc5,Bxc5,Nxc5,b6,Nd3,Nd7,a3,b5,f4,Kf8,Nb4,Nb8,a4,Nc6,axb5,Rxa1,Rxa1,Nxb4,Ra8+,Ke7,cxb4,Rxb4,Ra7+,Kf6,Rb7,Rxb2,b6,h6,Rb8,g5,fxg5+,hxg5,b7,Kf5,Rf8,Rxb7,h3,Ke4,Rg8,f6,Rg6,Kxd4,Rxf6,Rg7,Rxe6,Kc3,Kf2,d4,Ke2,g4,Re4,gxh3,gxh3,Rh7,h4,d3+,Kd1,d2,Rg4,Kd3,Rg3+,Ke4,Kxd2,Rxh4,Rg8,Rh2+,Kc3,Rh3+,Kc4,Rh4,Re8+,Kf5+,Kd5,Kf6,Rf8+,Kg7,Rf2,Rh5+,Ke6,Rh6+,Ke7,Rg6,Rf7+,Kh6,Rf1,Rg7+,Kf8,Rg5,Kf7,Rg7+,Kf6,Rg6+,Kf5,Rg5+,Kf4,Rh5,Rb1,Rh4+,Kg3,Rh5,Rb6+,Kg7,Kg4,Rc5,Rb7+,Kf6,Rh7,Rc4+,Kf3,Rc3+,Ke4,Kg6,Rh1,Kg5,Kd4,Ra3,Ke5,Ra5+,Ke4,Ra4+,Kd3,Ra3+,Kc4,Rf3,Rh8,Kg4,Rg8+,Kf4,Kd4,Kf5,Rf8+,Kg4,Rg8+,Kh3,Ke4,Rg3,Rh8+,Kg2,Kf4,Rf3+,Ke4,Rh3,Ra8,Kh2,Ra2+,Kg1,Kf4,Rh2,Ra1+,Kg2,Kg4,Rh1,Ra2+,Kg1', 'Kg3,Kf1,Ra1+,Ke2,Rxh1', 'https://lichess.org/training/LLxtB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LlXxa', 'Blitz', 'ChasingRabbits', 1973, 'acrby', 2036, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,c5,Ngf3,Nc6,c3,Bd6,Bg3,Ne4,Nxe4,dxe4,Nd2,f5,Qh5+,Kf8,Bh4,Be7,Bg3,cxd4,exd4,Qe8,Qd1,Qf7,Bc4,f4,Nxe4,fxg3,hxg3,Na5,Bd3,b6,b4,Nc6,Qa4,Bb7,O-O,g6,Bb5,Nxd4,cxd4,Bxe4,Bc6,Bxc6,Qxc6,Kg7,Rfe1,Rhf8,f3,Bf6,Qe4,Rad8,Rad1,Qd7,Qg4,h5,Qe4,Bxd4+,Kh2,e5,f4,Qg4,Qb7+,Rf7,Qe4,Bf2,Qxe5+,Kh7,Rxd8', 'Qxg3+,Kh1,Qh4#', 'https://lichess.org/training/LlXxa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llyF5', 'Rapid', 'Brezina', 1915, 'Thundercleese', 1956, 'Nf3,c5,e4,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Nc3,a6,Qd2,d6,Nxc6,bxc6,Bd4,Nf6,g4,c5,Bxf6,Bxf6,h3,Qb6,O-O-O,Rb8,b3,Qb4,Nd5', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/llyF5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LlyPm', 'Rapid', 'gorcam1967', 2033, 'DelTomelloso', 1951, 'd4,Nf6,Nf3,g6,c4,d6,Nc3,Bg7,e4,c5,dxc5,dxc5,Qxd8+,Kxd8,Ne5,Rf8,Be3,b6,Nb5,a6,Rd1+,Nbd7', 'Nc6+,Ke8,Nc7#', 'https://lichess.org/training/LlyPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LlYpV', 'Rapid', 'Ble', 1666, 'kazuva', 1727, 'Nf3,Nc6,Nc3,Nf6,e4,e5,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Bg5,Be7,Bxf6,Bxf6,O-O-O+,Ke8,Bb5,Bd7,Nd5,Bd8,Bxc6,Bxc6,Nxe5,Bg5+,Kb1,Rd8,Nxc7+,Ke7,Nxc6+,bxc6,Rxd8,Rxd8,f3,Rd2,g3,g6,a3,Kd6,Na6,Bh6,Nb4,Kc5,f4,Bf8,Nd3+,Kd4,h3,f6,Re1,Bd6,Kc1,Rh2,Rd1,Kxe4,Nf2+,Rxf2,Rxd6,Ke3,Re6+,Kf3,Rxc6,Kxg3,Rxf6,Rxf4,Rxf4,Kxf4,c4,Ke5,Kc2,Kd4,b3,a6,a4,a5,Kd2,h6,Ke2,Ke4,Kf2,Kf4,c5,Ke5,Kg3', 'Kd5,c6,Kxc6', 'https://lichess.org/training/LlYpV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LLzI7', 'Rapid', 'goku737', 2242, 'COLLECTIONNEURE-2', 2169, 'e4,e5,Bc4,Nc6,f4,Bc5,Nf3,exf4,d4,Bb6,O-O,Nf6,e5,d5,exf6,dxc4,Re1+,Be6,fxg7,Rg8,c3,Rxg7,Kh1,Qd5,Bxf4,O-O-O,Qe2,Rdg8,Rg1,Qf5,Bh6,Rg4,Nbd2,Qh5,Be3,Ne7,Ne5', 'Qxh2+,Kxh2,Rh4#', 'https://lichess.org/training/LLzI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('llZUU', 'Rapid', 'mauguzman97', 1756, 'Ggabo', 1690, 'd4,Nf6,c4,g6,Nc3,d5,Bf4,Bg7,e3,dxc4,Bxc4,O-O,Nf3,Nh5,Be5,Nf6,O-O,Nc6,Bxf6,Bxf6,Re1,Na5,Bd3,Bg4,h3,Be6,Be4,c6,b3,Rc8,Rc1,Bg7,Ng5,Bd7,Bd3,e5,Nf3,exd4,exd4,b5,b4,Nb7,Qd2,Be6,Bc2,Nd6,Bb3,Nc4,Bxc4,Bxc4,a3,Qd6,Ne4,Qd5,Nc5,Rfe8,Qf4,Rxe1+,Rxe1,f5,Qg5,Bf8,Ne6,Re8,Qf6', 'Rxe6,Rxe6,Qxe6,Qxe6+,Bxe6', 'https://lichess.org/training/llZUU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lm2Rz', 'Rapid', 'Punchi', 2029, 'sickranchez', 1980, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Nf6,Nc3,d6,Be2,Nbd7,O-O,Qc7,Kh1,b6,f4,Bb7,Bf3,g6,Qe1,Qxc4,Be3,e5,Nb3,Qc7,Rc1,Nc5,fxe5,dxe5,Nd5,Nxd5,exd5,Bd6,Nxc5,bxc5,b4,c4,Bc5,Bxc5,Rxc4,Bxb4,Qxb4,Qd7,Rfc1,Rc8,Rxc8+,Bxc8,h3,f5,d6,Kf7,Bd5+,Kf6,Rc7,Qb5,Rf7+,Kg5,Qd2+,f4,Kh2,Rd8,Bf3,Qc5,g3,Bf5,gxf4+,exf4,Qg2+,Kh6,Qb2,Rxd6', 'Qg7+,Kg5,h4+,Kxh4,Qh6#', 'https://lichess.org/training/lm2Rz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lM3dv', 'Rapid', 'liofanteverde', 1778, 'Schogi77', 1678, 'e4,c6,Nf3,d5,exd5,cxd5,Ne5,Nf6,d4,Nc6,Bb5,Qa5+,Nc3,a6,Bxc6+,bxc6,Nxc6,Qc7,Ne5,e6,O-O,h6,Bf4,Bd6,Bg3,O-O,Na4,Nd7,Qe2,Nxe5,dxe5,Be7,c3,Bb7,f4,Qc6,b3,Rad8,Kh1,d4,c4,d3,Qf3,Qxf3,gxf3,d2,Rad1,Rd3,Nc5,Rxf3', 'Nxb7,Rxf1+,Rxf1', 'https://lichess.org/training/lM3dv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lm48E', 'Rapid', 'kentt', 1744, 'piotr72', 1788, 'e4,e5,Nc3,Nf6,Bc4,c6,a3,b5,Ba2,d5,exd5,cxd5,d4,e4,h3,Bd6,Nge2,a6,Ng3,Bxg3,fxg3,O-O,Bg5,Be6,Qd2,Nbd7,O-O-O,h6,Bf4,Nb6,Rdf1,Nh5,g4,Nxf4,Qxf4,Qg5,Qxg5,hxg5,h4,gxh4,Rxh4,f6,Rh5,Kf7,g5,Rh8,Rxh8,Rxh8,gxf6,gxf6,g3,Rh3,Rg1,f5,Bb3,Kf6,Kd1,Kg5,Ke1,Kg4,Kf2,e3+,Kxe3,Rxg3+,Rxg3+,Kxg3,Ne2+,Kg4,Nf4,Bf7,c3,a5,Bd1+,Kg5,Be2,Nc4+,Bxc4,bxc4,Kf3,a4,Kg3,Bh5,Nxh5', 'Kxh5,Kf4,Kg6,Ke5,Kg5,Kxd5,f4', 'https://lichess.org/training/lm48E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lm4WV', 'Rapid', 'bezesezey', 1665, 'ihopeiwin247', 1742, 'e4,c5,Nf3,Nc6,c3,g6,d4,cxd4,cxd4,Bg7,Bc4,b6,O-O,Bb7,Be3,e6,d5,Ne5,Nxe5,Bxe5,Nc3,Ne7,dxe6,dxe6,Qxd8+,Rxd8,Rad1,O-O,f3,Rc8,Bb3,Ba6,Rf2,Nc6,Rfd2,Rfd8,Rxd8+,Rxd8,Rxd8+,Nxd8,a3,Nb7,g3,Na5,Bc2,Nc4,Bc1,Kg7,f4,Bf6,e5,Be7,Ne4,Bb7,Nd2', 'Bc5+,Kf1,Ne3+,Ke2,Nxc2', 'https://lichess.org/training/Lm4WV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lm5Sy', 'Classical', 'FabiBoss', 1720, 'kb007', 1694, 'd4,d5,Bf4,Nc6,e3,Nf6,Nd2,Bg4,Be2,Bxe2,Qxe2,e6,Ngf3,Bb4,O-O,O-O,c3,Ba5,Nb3,Bb6,a4,a5,Rfe1,Ne4,Rad1,Ne7,c4,c6,c5,Bc7,Nbd2,Bxf4,exf4,Nxd2,Rxd2,Ng6,g3,Qf6,Ne5,Qf5,b3,Rad8,Rb2,Ra8,b4,Rfd8,bxa5,Nxe5,fxe5,Rd7,Reb1,Rxa5,Rb4,Rxa4,R1b3,Ra7,Qb2,g6,Rxb7,Qe4,Rxd7,Rxd7,Rb8+,Kg7,Rc8,Qe1+,Kg2,Qe4+,f3,Qd3,Rxc6,Ra7,Rb6,Ra3,Qf2,Rc3,c6', 'Rc2,Rb2,Rxf2+', 'https://lichess.org/training/Lm5Sy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lM6lt', 'Rapid', 'berries', 1727, 'merinoff', 1773, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,c3,Nxe4,Re1,d5,Nxe5,O-O,Nxc6,bxc6,Bxc6,Bc5,d4,Qf6,f3,Qxc6,fxe4,Bb6,e5,Qe6,Nd2,c5,Nf3,Bb7,Qc2,h6,Rf1,f6,Bf4,cxd4,Nxd4,fxe5,Rae1,Qg4,Bxe5,Rae8,Kh1', 'Rxf1+,Rxf1,Rxe5', 'https://lichess.org/training/lM6lt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lm7m6', 'Rapid', 'paggy_cole', 1794, 'marco1986', 1790, 'd4,e5,dxe5,Nc6,h3,Nxe5,Bf4,Qe7,e3,Qb4+,Nd2,Qxb2,Rb1,Qxa2,Bxe5,d6,Bh2,Nf6,Ngf3,Be7,Bc4,Qa5,O-O,Bf5,Bb3,O-O,Re1,Qc5,Nd4,Bg6,Rc1,a5,Ra1,Nd5,Bxd5,Qxd5,N2b3,a4,Nd2,Bf6,c4,Qa5,Ra3,Be7,Ra2,c5,Nb5,Bd3,Qc1,d5,Nc7,Rac8,Nxd5,Rfe8,Qc3,Qxc3,Nxc3,Rcd8,Nf3,Bxc4,Rxa4,b5,Raa1,Rd3,Rac1,Bf6,Ne2,Rb3,Rb1', 'Rxb1,Rxb1,Bxe2', 'https://lichess.org/training/lm7m6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LMC36', 'Rapid', 'superwin', 1891, 'Tish9', 1984, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Bc4,d6,O-O,Nf6,Re1,O-O,c3,Nbd7,Bg5,h6,Bh4,Ne5,Bb3,Bg4,Qc2,Rc8,h3,Bd7,Qe2,Nh5,Rd1,a6,a4,Nf4,Qe3,g5,Bg3,Nc4,Bxc4,Rxc4,b3,Rc8,Bxf4,gxf4,Qxf4', 'e5,Qg3,exd4', 'https://lichess.org/training/LMC36');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lMD8I', 'Blitz', 'zuru', 1700, 'slaker77', 1661, 'e4,d5,exd5,Nf6,d6,cxd6,Nf3,a6,Be2,b5,O-O,Bb7,d4,Nc6,Be3,Rc8,c3,Na5,Nbd2,Ng4,h3,Nxe3,fxe3,g6,e4,Bg7,e5,Nc6,exd6,Qxd6,Ne4,Qd7,Nc5,Qc7,Nxb7,Qxb7,Ng5,O-O,Bd3,h6,Ne4,Rcd8,Nc5,Qa7,Qg4,e5,Bxg6,fxg6,Qxg6,Ne7,Qh5,exd4,Ne6,dxc3+,Kh1,Rxf1+,Rxf1,cxb2', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/lMD8I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LmdE1', 'Blitz', 'northern40', 1947, 'DaviJesus1', 1969, 'd4,Nf6,Nf3,e6,Bg5,d5,e3,Be7,Nbd2,Nbd7,Bd3,c5,c3,b6,Ne5,Bb7,f4,O-O,O-O,Ne8,Bxe7,Qxe7,g4,f6,Nef3,e5,fxe5,fxe5,Bf5,exd4,exd4,Ndf6,Ne5,Nd6,g5,Nfe4,Nxe4,dxe4,Qh5,Rxf5,Rxf5,Nxf5,Rf1,Nd6,g6,h6,Rf7,Nxf7,gxf7+,Kh7,Qf5+,g6', 'Qxg6+,Kh8,Qxh6#', 'https://lichess.org/training/LmdE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LmDzT', 'Rapid', 'rezo2015', 1819, 'karlen538', 1785, 'd4,d5,Nc3,Nf6,Nf3,Bf5,e3,Nc6,Bd3,Ne4,Nd2,Nxc3,bxc3,e6,Bxf5,exf5,c4,dxc4,Nxc4,Qg5,g3,Be7,Qd3,O-O,e4,fxe4,Bxg5,exd3,Bxe7,Rfe8,Kd2,Rxe7,Kxd3,Rd8,c3,Ne5+,Nxe5,Rxe5,Rhe1,Red5,Re4,c5,Rae1,g6,Re8+,Rxe8,Rxe8+,Kg7,Rb8,b6,Rb7,cxd4,cxd4,Ra5,Kc4,Rxa2,d5,Rxf2,Rxa7,Rc2+,Kb5,Rb2+,Kc6,b5,d6,Kf6,d7,Ke7,Kc7,Rc2+,Kb8,Rxh2', 'Kc8,Rc2+,Rc7,Rxc7+,Kxc7', 'https://lichess.org/training/LmDzT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lmEb8', 'Rapid', 'hamed641', 1793, 'ChrisThePriest', 1726, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,d4,Bd7,dxe5,Nxe5,Bxd7+,Nexd7,O-O,Be7,Re1,O-O,e5,dxe5,Nxe5,Nxe5,Qxd8,Raxd8,Rxe5,Bd6,Re1,a6,Bg5,b5,Bxf6,gxf6,Ne4,Be5,c3,f5,Nc5,Rd5,Nxa6,Bd6,Nb4,Rd2,Rab1,Bc5,Red1,Rxf2', 'Nd3,Rxb2+,Nxc5,Rxb1,Rxb1', 'https://lichess.org/training/lmEb8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LMetP', 'Rapid', 'pepecla', 1821, 'susguan', 2051, 'e4,g6,d4,Bg7,Nf3,d6,c3,Nd7,Bc4,e6,O-O,Ne7,Re1,h6,Bf4,O-O,d5,e5,Bg3,Kh7,h3,f5,Nbd2,f4,Bh2,g5,Bd3,Ng6,g3,fxg3,fxg3,Nf6,g4,Nf4,Bxf4,gxf4,g5,Nh5,Kh2,Ng3,Rg1,Qd7,Bf1,Qe7,gxh6,Bxh6,Bg2,Rg8,Nf1,Qg7,Qe1,Qg6,Nxg3,fxg3+,Kh1,Bf4,Qe2,Qh5,Qf1,Bd7,Re1,Rg6,Re2,Rh6,Rc2,Rg8,b3,Rg7,c4,Kh8,c5,Rgh7,cxd6,cxd6,Rc7,Bxh3,Rxh7+,Kxh7,Bxh3,Qxh3+,Qxh3,Rxh3+,Kg2,Rh6,Re1,Kg6,Re2,Rh7,Rc2,Kh5,a4,Kg4,Rc8,Rg7,b4,Be3,Rd8,Rg6,Rd7,b6,Rxa7,b5,Ra6,bxa4', 'Nxe5+,Kf4,Nxg6+', 'https://lichess.org/training/LMetP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lmEzg', 'Rapid', 'rafalima1340', 1786, 'Oct1420', 1863, 'e4,e5,Nc3,Bc5,Nf3,d6,b3,Nc6,Bb2,Bg4,h3,Bh5,g4,Bg6,Be2,Nf6,d3,h5,Qd2,hxg4,Ng5,gxh3,Nxh3,Qd7,Bf1,Ng4,O-O-O,Nxf2', 'Nxf2,Rxh1,Nxh1', 'https://lichess.org/training/lmEzg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lMfZM', 'Rapid', 'scherenaxt', 2029, 'Waruga', 2041, 'e4,e6,b3,d5,Bb2,dxe4,Nc3,Nf6,g4,e3,fxe3,Nd5,h4,Be7,Nf3,Bf6,g5,Nxc3,Bxc3,Bxc3,dxc3,Qe7,Qd4,f6,O-O-O,Nc6,gxf6', 'Qa3+,Kb1,Nxd4', 'https://lichess.org/training/lMfZM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LmHHj', 'Rapid', 'A_S_ROMA', 1907, 'Grod', 1603, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Nc6,Qxe5,Nxe5,d4,Nc6,Bb5,Bd7,d5,Nd4,Bxd7+,Kxd7,Kd1,Rd8,Be3,Nf5,Nf3,e6,Ne5+,Ke7,Bc5+,Kf6,Ng4+,Kg5,h3,Bxc5,Ne4+,Kg6', 'Ne5+,Kh6,Nxf7+', 'https://lichess.org/training/LmHHj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LMhTu', 'Rapid', 'Twitch_tv_KugelBuch', 1667, 'kurba771', 1623, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qh5+,g6,Qxc5,cxb2,Bxb2,d6,Qc3,Ne5,Nxe5,dxe5,Qxe5+,Qe7,Qxe7+,Nxe7,Bxh8,Be6,O-O,Kd7,Nc3,Rxh8,Rfd1+,Kc8,Rac1,Nc6,a3,Re8,Rd3,h5,Nd5,Ne5,Rxc7+,Kb8,Rdc3,Bxd5,exd5,Nc6,h3,Kxc7,dxc6,bxc6,Kh2,Re2,Kg3,Re4,f3,Ra4,Kf2,Kb6,g4,h4,f4,Rxf4+,Ke3,g5,Rd3,a5,Rd8,Kb5,Rg8,Ra4,Rxg5+,Kb6,Rh5,Rxa3+,Kf4,Rxh3,g5,a4,g6,Rg3,Rg5,Rd3,g7,Rd8,g8=B,a3,Ba2,Rd2,Bb1,h3,Rg3,h2,Rb3+,Ka5,Be4,h1=Q,Bxh1,Rf2+,Ke4', 'a2,Ra3+,Kb4', 'https://lichess.org/training/LMhTu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LmiOc', 'Rapid', 'SIiNAa', 1914, 'bulut10', 1909, 'e4,d6,Nf3,e5,c3,c5,b4,b6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Re1,Be7,d4,cxd4,cxd4,exd4,Qxd4,O-O,Bb2,Rc8,Na3,Nh5,g4,Bf6,e5,dxe5,Nxe5,Bxe5,Rxe5,Nxe5,Qxe5,f6,Qxh5,Qd2,Rb1,Rfd8,Qf5,Rc7,Qe6+,Kh8,Re1,h6,Nc4', 'Rxc4,Qxc4,Qxe1+', 'https://lichess.org/training/LmiOc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LMK9t', 'Blitz', 'kwic', 1792, 'warelds', 1755, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,d4,Nf6,Bg5,e6,e4,Be7,Nf3,Nc6,e5,Nd5,Bxe7,Ndxe7,Bb5,O-O,O-O,a6,Ba4,b5,Bb3,b4,Ne4,a5,Nc5,Ba6,Nxa6,Rxa6,Ba4,Nf5,Rc1,Ncxd4,Re1,Nxf3+,Qxf3,Nd4,Qe4,Qd5,Rxc7,Qxe4,Rxe4,Rd6,f4,Nf5,Rec4,Rd2,Rc8,Rxb2', 'Rxf8+,Kxf8,Rc8+,Ke7,Re8#', 'https://lichess.org/training/LMK9t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LMKTQ', 'Rapid', 'mtg02', 2067, 'tanmay8', 2121, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,Bc5,Be2,d6,h3,a6,O-O,O-O,b4,Ba7,Nbd2,Ne7,Nc4,Ng6,Be3,b5,Na5,Bd7,Nb3,Qc8,Kh2,h6,Ng1,Nh7,Bxa7,Rxa7,Bg4,f5,exf5,Bxf5,Bxf5,Qxf5,Qf3,Nf4,Rad1,Ng5,Qe3,Raa8,g3,Nd5,Qd2,Rae8,c4,bxc4,dxc4,Nf6,b5,axb5,cxb5,Nfe4,Qd5+,Kh8,h4,Qxf2+,Rxf2', 'Rxf2+,Kh1,Nxg3#', 'https://lichess.org/training/LMKTQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LMmFV', 'Classical', 'reza1348', 2014, 'Spencer2012', 1978, 'd4,Nf6,Nf3,d6,b3,g6,Bb2,Bg7,Nbd2,O-O,e3,Nbd7,Be2,c5,O-O,b6,Ng5,Bb7,Bf3,d5,Be2,h6,Ngf3,Qc7,Ne5,Nxe5,dxe5,Nd7,f4,e6,c4,Rfd8,Qc2,Nf8,Rad1,Rac8,Bf3,a6,cxd5,exd5,Bg4,Ne6,Bxe6,fxe6,Qxg6,Qf7,Qg3,Kh8,Nf3,Rg8,Qh4,Bf8,Qf6+,Qxf6,exf6,Rg6,f7+,Bg7,Ne5,Bxe5,Bxe5+,Kh7,g4,Rf8,h3,Rxf7,Kh2,b5,e4,d4,f5,exf5,Rxf5,Rxf5,exf5,Rg8,Rf1,Bd5,Bd6,c4,bxc4,bxc4,Re1,Rg7,Re8,Rd7,Be5,Bg8,f6,c3,f7,Bxf7,Rh8+,Kg6,h4,Bxa2,Bf4,Rh7', 'h5+,Kf6,Rxh7', 'https://lichess.org/training/LMmFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lmMrl', 'Blitz', 'Dmitry_Gritsenko', 2426, 'LM Killerkaz', 2451, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Nc3,Nf6,Qe2,O-O,Bg5,h6,Bh4,d6,O-O-O,Be6,f3,a5,a4,Re8,g4,Ne5,Nd4,Bc4,Qg2,d5,Bxc4,Nxc4,Nf5,Ne3,Nxe3,Bxe3+,Kb1,g5,Bf2,Bxf2,Qxf2,c6,h4,Qd6,hxg5,hxg5,Rh5,Qf4,Rh6', 'Nxg4,Qb6,Nxh6', 'https://lichess.org/training/lmMrl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LMn2F', 'Blitz', 'robertelrobby', 1645, 'bremstra', 1732, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,d3,Qe7,c4,Nd4,Nc3,c6,Ba4,a5,Be3,d6,Bxd4,exd4,Ne2,Bg4,Ng3,Nd7,h3,Bxf3,Qxf3,Ne5,Qe2,g6,Bc2,O-O,f4,Nd7,Rae1,a4,f5,Ne5,f6,Qc7,Qd2,Kh8,Qh6,Rg8,Rf4,Nd7', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/LMn2F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lmrR5', 'Rapid', 'milidor', 1752, 'fracastoro', 1730, 'e4,e6,Nf3,d5,e5,c5,b4,c4,c3,b5,a4,Qb6,axb5,Qxb5,Ra5,Qb6,Nd4,Nc6,Nxc6,Qxc6,Be2,Bd7,Bf3,Qb6,Na3,Ne7', 'Nxc4,dxc4,Bxa8', 'https://lichess.org/training/lmrR5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lMs0H', 'Rapid', 'Carlserov', 1842, 'SERASKER', 1747, 'e4,c6,d4,d6,Nf3,Nf6,Nc3,Qa5,Be2,Nxe4,O-O,Nxc3,bxc3,Qxc3,Bf4,g6,d5,Bg7,Rb1,O-O,Rb3,Qc5,c4,a5', 'Be3,a4,Bxc5', 'https://lichess.org/training/lMs0H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lms1T', 'Blitz', 'Luis2104', 2229, 'IM passiwitz', 2319, 'd4,d5,Nf3,c6,Bf4,Qb6,b3,Bf5,c3,Nd7,Nbd2,h6,e3,g5,Bg3,Ngf6,h3,Bg7,Ne5,Ne4,Nxe4,Nxe5,dxe5,Bxe4,Qd4,e6,f3,c5', 'Qa4+,Kf8,fxe4', 'https://lichess.org/training/Lms1T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lms4j', 'Rapid', 'Balaji_agu-2008', 2005, 'Mightypawn213', 1956, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,O-O-O,h3,Bh5,d3,e5,c4,Qd7,Be3,Kb8,Nxe5,Nxe5,Bxh5,Nxd3,Bf3,Bd6,Kh1,Ne5,Qe2,Rhe8,Rad1,Qf5,Bd5,g5,c5,Be7,Qb5', 'c6,Qa4,cxd5', 'https://lichess.org/training/Lms4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LmtDe', 'Bullet', 'cholosimeone', 1851, 'Juancrudo', 1973, 'd4,Nf6,Nf3,e6,Bg5,c5,e3,Qb6,Qc1,Ne4,Bf4,cxd4,exd4,Nc6,c3,Be7,Bd3,d5,O-O,O-O,Nbd2,Bd7,Nxe4,dxe4,Bxe4,Rac8,Bc2,Bf6,Rb1,g6,Qd2,Rfd8,Qe3,Na5,Be5,Nc4,Qf4,Nxe5,Nxe5,Bxe5,Qxe5,Bb5,Rfe1,Rd5,Qf6,Bc4,a3,Rh5,Be4,Qb5,Bf3,Rf5,Qh4,Bd3,Rbd1,Qxb2,Rxd3,Rxc3,Rxc3,Qxc3,Qe4,Rd5,Qe3,Qxe3,fxe3,Rb5,Ra1,Rb3,Kf2,b6,h3,f5,a4,a5,Bc6,Kf7,Bb5,Kf6,Rc1,g5,g3,h5,Rc6,Rb2+,Kf3', 'g4+,hxg4,hxg4+,Kf4,Rf2#', 'https://lichess.org/training/LmtDe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LMTq6', 'Rapid', 'raja_sekar', 1767, 'markodjukic94', 1736, 'd4,d5,e3,Bf5,Bd3,e6,Bxf5,exf5,Nd2,Nf6,c3,Bd6,f4,Nc6,Ngf3,Qe7,Ne5,O-O,O-O,Ng4,Nxg4,fxg4,Nb3,Qh4,Bd2,g3,h3,Rfe8,Qf3,Ne7,Be1,Nf5,Na5,Rxe3,Qxd5,g6,Nxb7,Bxf4,Nc5,Re2,Qxa8+,Kg7,Qf3,Be3+,Kh1', 'Qxh3+,gxh3,Rh2#', 'https://lichess.org/training/LMTq6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LmTQd', 'Blitz', 'ertandem', 1545, 'Zarpov', 1559, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d6,Bg5,Bg4,h3,Bh5,g4,Bg6,Nh4,h6,Nxg6,fxg6,Bh4,g5,Bg3,Qe7,a3,O-O-O,Nd2,Nd4,c3,Nxe4,dxe4,Ne6,Qb3,Nc5,Qc2,a6,O-O-O,d5,exd5,Qd7,Bxe5,Na4,Bd4,Bd6,Bb3,Nc5,Bxc5,Bxc5,f3,Be3,Kb1,Rhe8,Ne4,Qe7,Rhe1,Bf4,c4,Qf8,Ba4,Re5,Qc3,Bg3,Re2,Re7,c5,Be5,Qd3,b5,cxb6,cxb6,Rc1+,Kb8,Qxa6,Ra7,Qxb6+,Rb7,Qa6,Qxa3,Nc5', 'Rxb2+,Rxb2+,Qxb2#', 'https://lichess.org/training/LmTQd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LmtYM', 'Blitz', 'OnlyGapes', 2544, 'zsoltik', 2518, 'b3,c5,Bb2,Nc6,e3,e6,f4,Nf6,Nf3,b6,Rg1,h5,g3,Bb7,Bg2,Qc7,Qe2,a6,d3,d6,Nbd2,b5,h3,Be7,Bh1,O-O-O,Ng5,Rdf8,O-O-O,Ne8,Kb1,Qd7,c4,f6,Ngf3,Nc7,d4,Qe8,e4,cxd4,Nxd4,Nxd4,Bxd4,e5,Bb6,Qc6,Ba5,Kb8,Rc1,Qd7,f5,Bd8,Rgd1,Na8,Bb4,Bc7,c5,dxc5,Bxc5,Rc8,Qe3,Bc6,Bf3,Qf7,Rc2,Kb7,b4,Nb6,Nb3,Nc4,Qc1,h4,g4,Rhd8,Be2,Bxe4,Ka1,Bxc2,Qxc2,Rxd1+,Qxd1,Rd8,Bf3+,Kb8,Qe2,Qd7,Qe4,Bb6', 'Qa8+,Kc7,Qb7#', 'https://lichess.org/training/LmtYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LMu1f', 'Rapid', 'arturo6', 1745, 'op2_chess', 1754, 'e4,e5,Ne2,Nf6,Ng3,d5,exd5,Nxd5,Be2,Bc5,O-O,O-O,c3,Nf4,d4,Nxe2+,Nxe2,exd4,cxd4,Bd6,Qd3,Nc6,a3,Re8,Bf4,Rxe2,Qxe2,Bxf4,Nc3,Be6,Rad1,Bd5,g3,Bh6,f4,g6,b4,a6,Qf2,b5,Rde1,Bg7,Rd1,Qd6,Rfe1,Rd8,h4,h5,Kh2,Ne7,Nxd5,Nxd5,Qg2,Nf6,f5,Ng4+,Kh1,gxf5,Qf3,Qf6,Kg2,Rxd4,Re8+,Kh7,Rxd4,Qxd4,Qxf5+,Kh6,Qg5+,Kh7,Qxh5+,Nh6,Qe2,Qd5+,Re4,f5,g4,fxe4,g5,e3+,Kg1,Nf5,Qh5+,Kg8,Qe8+,Kh7,Qh5+,Nh6', 'g6+,Kh8,Qxd5', 'https://lichess.org/training/LMu1f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LmUQr', 'Rapid', 'Fischergambit', 1919, 'AnyanG', 1847, 'd4,d5,Nf3,Nf6,Bf4,Bf5,Nbd2,Nc6,e3,e6,Be2,Qd7,O-O,h5,c4,Bd6,Bxd6,Qxd6,c5,Qd7,Nh4,Bg4,a3,g5,Nhf3,Bxf3,Bxf3,g4,Be2,O-O-O,g3,Rdg8,b4,h4,b5,Ne7,a4,Nf5,c6,Qd6,cxb7+,Kb8,a5,hxg3,fxg3,Nxe3,Qb3,Nxf1,Rxf1,Rh6,b6,cxb6,axb6,Qxb6,Qxb6,axb6,Ba6,Rgh8,Rf2,Ne4', 'Nxe4,Rxh2,Rxh2', 'https://lichess.org/training/LmUQr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LmvX8', 'Blitz', 'melord', 1662, 'mojmiki1', 1678, 'e4,d6,d4,g6,c4,Bg7,Nf3,Nf6,Bd3,Nbd7,h3,c5,d5,O-O,O-O,Nb6,b3,a6,Nc3,Nbd7,Nh2,Ne5,Bc2,Bd7,f4,Nc6,f5,Ne5,fxg6,fxg6,Bg5,Qc8,Qd2,b5,Ne2,bxc4,bxc4,Nxc4,Qc1,Nh5,Ng4,Rxf1+,Qxf1,Bxa1,Qxa1,Qe8', 'Nh6+,Kf8,Qh8#', 'https://lichess.org/training/LmvX8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LmwsF', 'Classical', 'SSV7', 1788, 'Cato_the_Elder', 1957, 'e4,c5,Nc3,e6,g3,d5,Bg2,d4,Nb1,Nc6,d3,e5,Ne2,Bg4,a4,Qd7,Na3,a6,Nc4,Rd8,Nb6,Qe6,f3,Bh3,O-O,h5,Nd5,Bd6,c4,h4,g4,Bxg2,Kxg2,Nf6,h3,Ne7,f4,Nexd5,cxd5,Qd7,g5,Nh5,f5,g6,b3,gxf5,Rxf5,f6,Qf1,Qg7,Qf3,Kf7,Bd2,Rdg8,Rb1,Rh6,g6+,Rxg6+,Kh2,Rg2+,Kh1,Rxe2', 'Qxh5+,Ke7,Qxe2', 'https://lichess.org/training/LmwsF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lN2oH', 'Rapid', 'GorAvet', 2241, 'itay121', 2402, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e4,d6,Be2,e5,dxe5,dxe5,Qxd8,Rxd8,Bg5,Re8,Nd5,Nxd5,cxd5,c6,O-O,h6,Be3,cxd5,exd5,f5,Rac1,f4,Bc5,Nd7,Bb5,a6,Bxd7,Bxd7,Bd6,e4,Nd2,Bxb2,Rc7,Bb5,Rb1,Bd4,Bxf4,Rf8,Be3,Be5,Rxb7,Bd3,Rc1,g5,h3,Rac8,Rc6,Rxc6,dxc6,Rc8,Re7,Bd6,Re6,Rxc6,Nxe4,Bh2+,Kxh2,Rxe6,Nc5,Rd6,Nxd3,Rxd3,Bc5,Kf7,a3,Ke6,f3,Kd5,Bf8,h5,Kg3,Rd4,Be7,Ra4,Bb4,a5,Be7,Ke6,Bf8,Kf5,Bd6,Rd4,Be7,Rd2,h4,g4,fxg4+,hxg4,h5,Rd3+,Kh4,Rd1,Kg3,Rh1,Bh4,Rb1,Be7,Rb6,Kh4,Rh6,Bg5,Rh8,h6,Rg8,Bc1,Rc8,Bd2,a4,Kh5,Rd8', 'h7,Rh8,Kh6', 'https://lichess.org/training/lN2oH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LN3XW', 'Rapid', 'trancaxo', 2006, 'Viktor_88', 2046, 'd4,e6,c4,d5,Nf3,c5,dxc5,Bxc5,cxd5,exd5,e3,Nf6,Be2,Nc6,O-O,O-O,Nc3,a6,b3,Bb6,Bb2,Bc7,Rc1,Bg4,Nd4,Qd6,g3,Ne5,Qc2,Bxe2,Ncxe2,Rac8,Qf5,Ned7,Rc2,Bb6,Rfc1,Rxc2,Rxc2,h6,Nf3,Re8,Kg2,Ne4,Nf4,Ndf6,Rc8,Rxc8,Qxc8+,Kh7,Qxb7,Qc5,Nd4,Qb4,Qxf7,Qd2,Qg6+,Kh8,Nf5', 'Qxf2+,Kh3,Ng5+', 'https://lichess.org/training/LN3XW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LN8fJ', 'Rapid', 'winnerurch', 1833, 'Alexandr31072012', 1861, 'd3,d5,g3,e5,Bg2,d4,Nd2,Bb4,a3,Bxd2+,Qxd2,Nf6,Qg5,O-O,Bd2,h6,Qxe5,Nc6,Qc5,Ne7,Qe5,Ng6,Qb5,a6,Qb3,c6,c4,Re8,O-O-O,Be6,Qxb7,Ng4,Nh3,Bd7,Bf3,N4e5,Bg2,Re7,Qb3,a5,Nf4,a4,Qa2,Nf8,h4,Be6,Bb4,Rb7,Nxe6,Nxe6,Kd2,c5,Bc3,Rb3,Bxd4,Nxd4,Bxa8,Qxa8,Rc1,Ng4,f3,Nf2,Rhf1,Nxf3+,exf3,Rxd3+,Kc2,Qxf3,Kb1,Qf5,Ka1,Rf3,Qb1,Qf6,Rce1', 'Rxa3+,Qa2,Rxa2+', 'https://lichess.org/training/LN8fJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LN9MH', 'Rapid', 'guigonser', 1609, 'Otalkk', 1726, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,e5,Bb5,Nf6,Bxc6,bxc6,Bg5,Be7,Bxf6,Bxf6,Qd6,Qa5+,Nc3,Be7,Qd3,Ba6,Qe3,Rb8,Rb1,Bb4,Ne2,Bxe2,Kxe2,Qa6+,Qd3,Qxd3+,Kxd3,a5,a3,Bc5,f3,O-O,Rhd1,d6,Ke2,f5,exf5,Rxf5,Na4,Rb5,Nxc5,dxc5,c4,Rb3,Rd3,a4,g3,Rxd3,Kxd3,Rxf3+,Ke4,Rf2,Kxe5,Rxh2,Kd6,Rc2,Kxc5,h6,b4,Rc3,b5,cxb5,Kxb5', 'Rb3+,Kc5,Rxb1', 'https://lichess.org/training/LN9MH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lNax5', 'Rapid', 'Igorsherihov', 1897, 'Islamishkmal', 1828, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,f4,h6,f5,Bh7,Nf3,Nd7,Bd3,e6,fxe6,fxe6,Bxh7,Rxh7,O-O,g5,Qd3,Re7,Qg6+,Rf7,Nxg5,Ne5,Nxf7', 'Qxd4+,Kh1,Nxg6', 'https://lichess.org/training/lNax5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lnb0V', 'Bullet', 'CM FourNinetySix', 2310, 'talant83', 2127, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Qb6,O-O,Bg4,c4,Bxf3,Bxf3,dxc4,Nd2,Nd7,Nxc4,Qc7,Bf4,Nb6,Nd6+,Bxd6,exd6,Qd7,Re1,Nf6,Be5,Nbd5,a3,O-O,b4,Qd8,h3,Nd7,Bxd5,cxd5,Rc1,Nxe5,dxe5,Rc8,Qd4,Qg5,f4,Qg3,Rxc8', 'Qxe1+,Kh2,Rxc8', 'https://lichess.org/training/Lnb0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LnbwO', 'Blitz', 'Abeerahamd55', 1655, 'HalloweenGambitOnly', 1764, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,f3,Be7,Bc4,d5,exd5,cxd5,Bb3,Ba6,Bg5,h6,Bxf6,Bxf6,Nc3,O-O,Qxd5,Bxc3+,bxc3,Re8+,Kf2,Qe7,Rhe1', 'Qh4+,Kg1,Rxe1+,Rxe1,Qxe1#', 'https://lichess.org/training/LnbwO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lNC5F', 'Blitz', 'IM licg', 2552, 'FM Kabeljaukrieger', 2563, 'e4,e5,Nf3,Nc6,Bb5,g6,d4,exd4,c3,a6,Bc4,Nf6,e5,d5,Be2,d3,Bxd3,Ng4,Qe2,Bg7,h3,Ngxe5,Nxe5,Nxe5,f4,Qh4+,Kf1,O-O,fxe5,Re8,Qf2,Qh5,Bf4', 'Qd1+,Qe1,Qxd3+', 'https://lichess.org/training/lNC5F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lNCck', 'Rapid', 'Muhammad_Humayun', 1797, 'luckmelissa', 1851, 'e4,c6,d4,Qb6,Nc3,e6,Nf3,d5,exd5,cxd5,a4,a6,a5,Qa7,Bd3,Bd7,Be3,Nc6,Ne5,Nf6,Nxc6,bxc6,O-O,Be7,Na4,Rb8,Nb6,O-O,c4,h6,c5,Be8,Qe2,Nh7,Bxa6,f5,f4,Nf6,Bd3,Bh5,Qc2,Ng4,Bd2,Bf6,Bc3,Ne3,Qb3,Nxf1,Kxf1,Be7,Qa4,Be8,b4,g5,g3,Rf7,b5,cxb5,Bxb5,Bxb5+,Qxb5,Bd8,Qc6,Re7', 'Nc8,Rxc8,Qxc8', 'https://lichess.org/training/lNCck');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lnd2w', 'Blitz', 'lucioc84', 2050, 'aslyamov', 2007, 'd4,Nf6,Bg5,g6,Bxf6,exf6,e3,Bg7,Bd3,O-O,Nd2,d5,Ne2,c6,Ng3,f5,Nf3,Nd7,O-O,Nf6,Ne5,Ne4,f3,Nxg3,hxg3,f6,Nxg6,hxg6,c3,Qd6,Qd2,Qxg3,f4,Kf7,Rf3,Qg4,Kf2,Rh8,c4,Rh2,Rg3,Qh4,cxd5,cxd5,Rc1,Be6,Rc7+,Kg8,Qb4,Re8,Qxb7,Bf8,Qxa7,g5,fxg5,fxg5,Bb5,Bd6,Rg7+,Kf8,Rxg5,Bxg3+,Rxg3,Re7,Qb8+,Kf7', 'Qg8+,Kf6,Qg6#', 'https://lichess.org/training/Lnd2w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LNfHh', 'Rapid', 'mehmet9527', 1888, 'old_beaner', 1865, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Nc3,Nxe5,Nxe5,Qxe5,e4,Nf6,Bd3,d5,O-O,Bd6,g3,Bh3,Re1,d4,Nb5,Bb4,Bf4,Qe7,c3,dxc3,bxc3,Ba5,Nxc7+,Bxc7,Qa4+,Bd7,Bb5,Bxf4,Bxd7+,Nxd7,gxf4,O-O,e5,Nc5,Qb5,b6,Rad1,Rfd8,Qc6,h6,a4,Qe6,Rd6,Rxd6,Qxa8+,Kh7,exd6,Qxe1+,Kg2,Qe4+', 'Qxe4+,Nxe4,d7', 'https://lichess.org/training/LNfHh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LNGeR', 'Blitz', 'FM kiflaaa', 2484, 'Aliyev_E', 2388, 'a3,g6,Nc3,Bg7,e4,c6,d4,d5,exd5,cxd5,h3,Nc6,Nf3,Nh6,Bg5,Nf5,Qd2,Ncxd4,O-O-O,Nxf3,gxf3,d4,h4,h5,Bd3,O-O,Ne4,b5,Rhg1,a5,Ng3,Nxg3,Rxg3,b4,a4,b3,Rdg1,bxc2,Bh6,Ra6,Bxg7,Kxg7,Bxa6,Bxa6,Qxc2,Qd6,Qf5,Rc8+,Kb1,Rb8,Qxa5,Bd3+,Ka1,Rb4,Rg5,Bc2,b3,Bxb3,Qe5+,Qxe5,Rxe5,e6,a5,d3,Kb2,d2,Kc3,d1=Q', 'Rxd1,Bxd1,Kxb4', 'https://lichess.org/training/LNGeR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LNgME', 'Blitz', 'Mask2843', 1962, 'NicoDeMouscron', 1916, 'd4,Nf6,Nf3,c5,Bf4,cxd4,Nxd4,d6,Nf3,g6,e3,Bg7,c3,O-O,Nbd2,Bg4,Bc4,Nh5,Bg5,Nc6,h3,Bxf3,Qxf3,Qa5,h4,Ne5,Qxb7,Rab8,Qxe7,Rxb2,g4,h6,gxh5,hxg5,hxg5,Rxd2,h6,Bh8', 'h7+,Kg7,Qf6#', 'https://lichess.org/training/LNgME');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LNh8h', 'Rapid', 'antonmarcus', 1870, 'air7', 1974, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Bg4,Bc4,e6,O-O,Nc6,b3,dxe5,Bb2,exd4,h3,Bxf3,Qxf3,Ndb4,Na3,Bc5,Rad1,O-O,c3,Nxa2,cxd4,Bxd4,Nb5,e5,Nxd4,exd4,Ba3,Nab4,Bb5,a5,Bxc6,bxc6,Bxb4,axb4,Qxc6,Ra3,Qc4,Qe7,Rfe1,Qf6,Rxd4,Rxb3,Rf4,Qc3', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/LNh8h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lnHfd', 'Blitz', 'stuffings', 2344, 'FM toratosa', 2514, 'e4,c5,Nf3,a6,d3,d5,g3,dxe4,dxe4,Qxd1+,Kxd1,Nf6,Nc3,b5,e5,Bb7,Bg2,Ng4,Re1,Nxf2+,Ke2,Ne4,Nxe4,Bxe4,a4,e6,axb5,axb5,Rxa8,Bxa8,Rd1,Be7,h4,h6,h5,O-O,Bf4,Rd8,Ra1,Nc6,c3,Bb7,Kf2,Kf8,Bf1,c4,Be3,Ra8,Rxa8+,Bxa8,Bg2,b4,Nd2,bxc3,bxc3,Ke8,Nxc4,Nxe5', 'Nxe5,Bxg2,Kxg2', 'https://lichess.org/training/lnHfd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LnHjf', 'Rapid', 'Tamer_Elbanna', 1761, 'tyu123kk', 1713, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Nf6,Bc4,O-O,O-O,a6,Bb3,Qc7,e5,Ne8,Rae1,d5,exd6,Nxd6,Ne2,Nf5,Qd3,Rb8,Rd1,b5,c3,Bb7,Bc2,g6,Ng3,Rbd8,Qe2,Qc6,Be4', 'Nxg3,hxg3,Qxe4,Qxe4,Bxe4', 'https://lichess.org/training/LnHjf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LnJ05', 'Rapid', 'Michael_Syngates', 2039, 'Bejo28', 2054, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,d6,O-O,h6,Nbd2,O-O,h3,Be6,Bxe6,fxe6,c3,c6,b4,Bb6,a4,Qe7,a5,Bc7,Qb3,Nbd7,Ba3,Kh7,c4,Nh5,b5,c5,Bc1,Nf4,Nh2,Qg5,Ndf3', 'Qxg2#', 'https://lichess.org/training/LnJ05');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lNJlB', 'Blitz', 'mani8321', 1606, 'Joh_17', 1657, 'e4,c6,Bc4,d5,exd5,cxd5,Be2,Nf6,d4,Nc6,Nf3,Bg4,Nc3,Bxf3,Bxf3,e6,Bg5,Be7,Qd2,h6,Be3,Bb4,O-O-O,O-O,Bxh6,Bxc3,bxc3,Qa5,Be3,Qa3+,Kb1,Rfd8,Ka1,Na5,Rb1,Nc4,Qe2,Rd6,Rb3,Qa6,Rhb1', 'Qxa2+,Kxa2,Ra6+,Ra3,Rxa3#', 'https://lichess.org/training/lNJlB');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 22;
-    }
-
-}
\ No newline at end of file
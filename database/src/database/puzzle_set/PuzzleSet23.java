@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet23 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lnjXt', 'Rapid', 'Keaven', 1648, 'cinar_a', 1695, 'e4,c5,b4,cxb4,Bb2,d5,Bb5+,Nc6,Qe2,a6,exd5,axb5,dxc6,bxc6,Nf3,Nf6,O-O,Bg4,h3,Bxf3,Qxf3,Qd7,Bxf6,exf6,Re1+,Be7,h4,O-O,g3,Rfe8,d3,Qd4,Nd2,c5,Nb3,Qd7,Re2,Bd6,Rae1,Rxe2', 'Qxa8+,Bf8,Rxe2', 'https://lichess.org/training/lnjXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lNL6c', 'Blitz', 'lecitronvert', 2458, 'IM imdejong', 2416, 'e4,e6,b3,d5,Bb2,Nc6,exd5,exd5,Bb5,Ne7,Nf3,a6,Be2,d4,O-O,Nf5,Bd3,Be7,c3,O-O,Re1,Bf6,Na3,Re8,Rxe8+,Qxe8,Nc2,g6,Qf1,Be6,Re1,Qd7,Be4,Rd8,cxd4,Nfxd4,Ncxd4,Nxd4,Nxd4,Bxd4,Bxd4,Qxd4,Bxb7,a5,Bf3,a4,Rc1,axb3,axb3,Bxb3,Rxc7,Qxd2,Rc1,Kg7,Qe1,Qxe1+,Rxe1,Be6,h3,h5,Rd1,Rxd1+,Bxd1,h4,Kh2,Kf6,Be2,Ke5,g3,g5,Bf3,Bd5,Bh5,f6,Kg1,Kd4,Kf1,Be6,Kg2,Bd5+,Kf1,Kd3,Bg6+,Kd2,Bf5,Bf3,gxh4,gxh4,Be6,Kd3,Bf5+,Kd4,Kg1,Ke5,Bc8,Kf4,Kh2,f5,Kg1,Kg5,Kh2,f4,Kg1,Kf6,Kh2,Ke5,Kg1,Kd4,Bd7,Be2,Bc8,Kd3,Bb7,Kd2,Bc8,Ke1,Bd7,Bf3,Be6,Ke2', 'Bg4,Kd2,Bxf3', 'https://lichess.org/training/lNL6c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lnlb5', 'Blitz', 'IM chessRoMania', 2532, 'Lopuh99', 2557, 'Nf3,d5,d4,Nf6,Bf4,Bf5,c4,dxc4,Nc3,c6,a4,e6,Ne5,Bb4,Nxc4,O-O,e3,a5,Nd2,Nd5,Nxd5,exd5,Be2,Nd7,O-O,Nf6,Bg3,Re8,Bh4,h6,Rc1,Qd6,Bg3,Qe7,Nf3,Ne4,Bd3,Bg4,Qc2,Bxf3,gxf3,Nd2,Rfd1,Nxf3+,Kg2,Ng5,Rg1,Ne4,Be5,f6,Bf4,Bd6,Bxe4,dxe4,Qb3+,Kh8,Bxd6,Qxd6,Qxb7,Rac8,Kh1,Rg8', 'Rxg7,Rxg7,Qxc8+', 'https://lichess.org/training/lnlb5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lnmDL', 'Rapid', 'HollywoodKnights', 1662, 'antonio130645', 1625, 'c4,c5,g3,e5,Bg2,Nc6,d3,Nf6,Nf3,d6,Nc3,Be7,e3,O-O,O-O,Be6,Ng5,d5,Nxe6,fxe6,cxd5,exd5,Qb3,Kh8,Nxd5,Na5,Qb5,a6,Qa4,Nxd5,Bxd5,Qxd5,Qxa5,Qxd3,b3,Rad8,Ba3,Qb5,Qc7', 'Bd6,Qxd8,Rxd8', 'https://lichess.org/training/lnmDL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LnmiH', 'Rapid', 'tony68it', 1766, 'Deekay007', 1763, 'd4,c5,e3,e6,c4,cxd4,exd4,Nf6,Nf3,d5,cxd5,Nxd5,a3,Nc6,Be2,g6,Bg5,Qa5+,Bd2,Qb6,Bc3,Bg7,O-O,Nxc3,bxc3,O-O,Nbd2,Re8,Nc4,Qc7,Ne3,e5,dxe5,Nxe5,Nxe5,Bxe5,Nd5,Bxh2+,Kh1,Qe5,Bf3,Bf5,Re1,Qxe1+,Qxe1,Rxe1+,Rxe1,Bd6,a4,Rd8,Ne3,Bd7,Bxb7,Bxa4,Nc4,Bc5,Ne3,a5,Ra1,Bb6,Rxa4,Rd2,Rf4,Ra2,Bd5', 'Ra1+,Kh2,Bc7,g3,Bxf4', 'https://lichess.org/training/LnmiH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lnncm', 'Rapid', 'anooshe', 1982, 'panku2008', 2034, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,h3,Bxc3+,bxc3,dxc4,Bf4,O-O,e3,b5,a4,c6,axb5,cxb5,Bxb8,Rxb8,Rxa7,Qb6,Ra1,Nd5,Qd2,b4,cxb4,c3,Qc2,Qxb4,Bd3,Qb2,O-O,Nb4', 'Bxh7+,Kh8,Qe4', 'https://lichess.org/training/lnncm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lNoG8', 'Rapid', 'cretinowski', 1686, 'reipaulo', 1708, 'd4,d5,c4,dxc4,e3,g6,Bxc4,Bg7,Nc3,Nf6,Nf3,O-O,O-O,c6,e4,e6,Re1,a5,a4,Na6,Bg5,Qe8,d5,cxd5,exd5,Nc7,Nb5,Ncxd5,Bxd5,Nxd5,Rc1,Bd7,Rc5,Bxb5,Rxb5,Rb8', 'Rxd5,exd5,Rxe8', 'https://lichess.org/training/lNoG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lnOYx', 'Rapid', 'nautilus07', 1691, 'Vlado72', 1695, 'g3,e5,Bg2,d5,b3,c6,Bb2,Bd6,Nf3,f6,O-O,Ne7,d4,e4,Nh4,g5,e3,gxh4,Qh5+,Ng6,f4,f5,gxh4,Be6,Bh3,Qxh4,Qxh4,Nxh4,Kh1,Nd7,Nd2,O-O-O,c4,Rhg8,c5,Be7,b4,Nf6,a4,Ng4,Bxg4,Rxg4,b5,Rg2,Bc3,Re2,Rab1,Rxe3,Ba5,Rg8,bxc6,bxc6,Rb2,Bf6,Rfb1,Bxd4', 'Rb8+,Kd7,R1b7#', 'https://lichess.org/training/lnOYx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LnoZn', 'Blitz', 'tactical999', 1765, 'niciolax', 1833, 'd4,Nf6,e3,e6,f4,d5,Nf3,Nbd7,Bd3,Bd6,O-O,O-O,Nbd2,c5,c3,b6,Ne5,Bb7,Ndf3,Ne8,Qe1,f6,Nxd7,Qxd7,Qg3,f5,Qh3,Nf6,Ne5,Qe7,Bd2,Rac8,Be1,c4,Bc2,Bxe5,fxe5,Ne4,Bh4,Qd7,Bxe4,fxe4,Qg3,Rf5,Rxf5,exf5,Bf6,Kh8,Bh4,Rf8,Qf4,Bc8,b3,b5,bxc4,bxc4,a4,a5,Rb1,Qxa4,Be7,Re8,Bd6,Qd7,Qf1,a4,Qd1,Qa7,Ra1,Bd7,Qb1,Rc8,Bc5,Qa6,Qb4,Rc7,Bd6,Rb7,Qc5,Qa8,h3,Rb3,Bf8,Qb7,Qe7,Bc8', 'Bxg7+,Kg8,Qf8#', 'https://lichess.org/training/LnoZn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lnp02', 'Rapid', 'hakan4747', 1859, 'NM janisdaudz', 2177, 'e4,g6,d4,c6,c4,d5,cxd5,cxd5,e5,Nc6,Nc3,Bg7,f4,h5,Nf3,Bg4,Be2,Bxf3,Bxf3,e6,Nb5,Kf8,O-O,Nh6,Nd6,Qc7,Be3,Rd8,Qb3,b6,Qa3,Kg8,Nb5,Qb7,Nd6,Qe7,Qc3,Rxd6,exd6,Qxd6,Rac1,Na5,Qc7,Qb4,Qd7,Bxd4,Bxd4,Qxd4+,Kh1,Nc4,b3,Ne3,Rfe1,Qxf4,Rc7,a5,Rec1,Nc4,Rf1,Ne5,Qe7,Rh7,h3,Qg3,Qf6,Rg7,Rc8+,Kh7,Qd8,g5', 'Qh8+,Kg6,Bxh5+,Kxh5,Qxg7', 'https://lichess.org/training/Lnp02');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LnP2L', 'Rapid', 'Lennyderwappla', 1709, 'Mauserk98', 1688, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,b5,Bb3,d6,c3,Ng6,d4,exd4,cxd4,Be7,Nc3,O-O,Nd5,Be6,Nxe7+,Ngxe7', 'd5,Bg4,dxc6', 'https://lichess.org/training/LnP2L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lnqTt', 'Blitz', 'cadjo', 2193, 'FM jjpineda', 2118, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bf4,d6,e3,c5,Be2,Nc6,O-O,cxd4,exd4,h6,h3,Re8,Qd2,Kh7,a3,Bf5,Rfd1,Ne4,Nxe4,Bxe4,Rac1,e5,dxe5,dxe5,Qxd8,Raxd8,Rxd8,Rxd8,Be3,Bxf3,Bxf3,f5,Bxc6,bxc6,Bxa7,Rd2,Rb1,e4,b3,f4,a4,g5,b4,Rc2,b5,Rxc4,b6,Bd4,a5,Rc2,a6,Bxf2+,Kh1,Bc5,Bb8,Ra2,a7,e3,Be5,Kg6,Ra1,Rxa1+', 'Bxa1,e2,Bc3', 'https://lichess.org/training/lnqTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lnRPE', 'Rapid', 'Akki06', 1770, 'Lucas_40', 1819, 'd4,d5,c4,e5,cxd5,Qxd5,Nc3,Qxd4,Qxd4,exd4,Nb5,Nc6,Nxc7+,Kd7,Nxa8,Nb4,Kd1,Nf6,f3,b6,a3,Nc6,Bg5,Be7,Rc1,Bb7,Nh3,Bxa8,Nf4,h6,Bxf6,Bxf6,Nd5,d3,Nxf6+,gxf6,exd3,Rd8,g3,Ne5,Bh3+,Ke7,Rc7+,Kf8,Kc2,Bxf3,Re1,Rxd3,Rxa7,Rd6,Re3,Bh5,Ra8+,Kg7,Rb3', 'Bd1+,Kb1,Bxb3', 'https://lichess.org/training/lnRPE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LnSzm', 'Blitz', 'athos1600', 2275, 'GM XenophiliusLovegood', 2504, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,O-O,e4,d6,Nge2,c5,O-O,Nc6,h3,a6,d3,Rb8,f4,Ne8,f5,b5,g4,Ne5,b3,b4,Nd5,Nf3+,Rxf3,Bxa1,g5,Bg7', 'f6,Nxf6,gxf6', 'https://lichess.org/training/LnSzm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LNtYh', 'Rapid', 'Acerb8', 1611, 'SJMistery', 1604, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,d4,Be7,Bc4+,Kf8,O-O,Nxe4,Qf3+,Nf6,Bg5,d5,Bd3,Kg8,Nd2,Bg4,Qf4,h6', 'Bxf6,Bxf6,Qxg4', 'https://lichess.org/training/LNtYh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lNUK4', 'Blitz', 'CorocoronandoMI', 2245, 'LesterAmado', 2051, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c4,O-O,Be2,Nd4,O-O,Be6,Bg4,Bxd5,cxd5,Bg5,Nc2,Bf6,Nxd4,exd4,Qd3,g6,f4,Ra7,Rac1,Rc7,Rc6,Rxc6,dxc6,Qb6,Rc1,Bd8,Bd7,Bc7,Kf2,Qa5,a3,b4,Kf3,bxa3,bxa3,Qh5+,Kg3,f5,Qc4+,Kg7,Qxd4+,Kh6,exf5,gxf5,Re1,Rg8+,Kf2,Qxh2,Re6+,Rg6,Rxg6+,Kxg6', 'Be8+,Kh6,Qf6#', 'https://lichess.org/training/lNUK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lnxus', 'Rapid', 'Weine', 2037, 'komodo3', 2287, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,Ngf6,Bd2,e6,O-O-O,Be7,Ne4,Nxe4,Qxe4,Nf6,Qe2,Qd5,Kb1,Qe4,Qc4,O-O-O,Ba5,Qd5,Qc3,Ne4,Qe1,b6,Bc3,Bf6,b3,Nxc3+,Qxc3,Kb7,Ne5,Bxe5,dxe5,Qxd1+,Rxd1,Rxd1+,Kb2,Rg8,b4,Rd5,Qf3,Rd7,b5,Rc8,a4,Rdc7,c4,Kb8,Qg3,cxb5,cxb5,g6,hxg6,Rc2+,Kb3,fxg6,Qxg6,a5', 'Qxc2,Rxc2,Kxc2', 'https://lichess.org/training/Lnxus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lNyst', 'Rapid', 'SeventhRonin', 1751, 'TRiddle', 1810, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,c4,e6,Nc3,Nf6,Bf4,Bd6,Be3,O-O,Be2,dxc4,Bxc4,Nc6,O-O,Qc7,Nb5,Qd7,Nxd6,Qxd6,Rc1,Ne4,Nd2,Qe7,Bd3,Nxd2,Qxd2,Bxd3,Qxd3,Nb4,Qb3,b6,Bd2,Nd5,Rfe1,Qf6,Re5,Rac8,Rce1,Rc6,Qg3,Rc2,Bg5,Qg6,h4,f6,Rxe6,Rxb2,Qd6,Qf5,Re8', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/lNyst');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LNZCA', 'Rapid', 'KamutoXerovato', 1820, 'B-Rahman', 1842, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bf5,Bb5+,Bd7,Bxd7+,Nxd7,Nc3,e6,a3,a6,O-O,Ngf6,Bg5,h6,Bh4,Bd6,Re1,O-O,Ne5,Qc7,Nxd7,Nxd7,Bg3,b5,Bxd6,Qxd6,Re3,Rac8,Rg3,Nf6,Qf3,b4,Qxf6', 'Qxg3,hxg3,gxf6', 'https://lichess.org/training/LNZCA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lNzGo', 'Rapid', 'porovos', 1908, 'Zybrec', 1999, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,bxc6,O-O,Be7,f3,Nc5,c3,O-O,Be3,Ne6,Nf5,Bg5,Qd2,Bxe3+,Qxe3,Re8,f4,f6,Qg3,fxe5', 'Nh6+,Kh8,Nf7+', 'https://lichess.org/training/lNzGo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lnZQp', 'Bullet', 'Beefysuperdude', 1716, 'MetehanFC', 1641, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Be3,O-O,Qd2,Ng4,Bd3,Nxe3,Qxe3,c5,d5,Bg4,O-O,Bxf3,Qxf3,Nd7,Rad1,Ne5,Qe2,f5,exf5,Nxd3,Qxd3,Rxf5,Nb5,Qb6,a4,a6,Nc3,Raf8,Ne4,Qxb2,Rb1,Qe5,Rxb7,Rf4,f3,Qf5,Rxe7,Bd4+,Kh1,Qh5,Ng3', 'Qxh2+,Kxh2,Rh4#', 'https://lichess.org/training/lnZQp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LnZQy', 'Rapid', 'foxman2010', 1891, 'RD1234', 1878, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,Nxd4,Bxd7+,Qxd7,Qxd4,Be7,Qxg7,Bf6,Qg3,O-O-O,Nc3,Ne7,Nd5,Nxd5,exd5,Rhg8,Qf3,Be5,Qh5,Qb5,Qxf7', 'Bxh2+,Kxh2,Qxf1', 'https://lichess.org/training/LnZQy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LO0WH', 'Rapid', 'amomy', 1985, 'Siam', 1933, 'd4,d5,c4,e6,Nc3,a6,c5,c6,Nf3,Nf6,e3,Nbd7,Bd2,b6,b4,Bb7,Be2,Qc7,h3,a5,a3,Be7,O-O,O-O,Re1,Ba6,Bxa6,Rxa6,Qe2,Rfa8,Nb1,axb4,Bxb4,bxc5,dxc5,Bxc5,Bxc5,Nxc5,Nd4,Nce4,Rc1,c5,Nb5,Qb6,N5c3,Nxc3,Nxc3,Rxa3,Rxa3,Rxa3,Qc2,c4,Rb1,Qc7', 'Nb5,Qe5,Nxa3', 'https://lichess.org/training/LO0WH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lo1xs', 'Blitz', 'Vesaj', 1732, 'reffi', 1756, 'Nf3,c5,e4,Nc6,Bc4,d6,d3,Bd7,Ng5,Nh6,Qf3,e6,O-O,g6,Nh3,Bg7,Nc3,O-O,Bg5,Qb6,Na4,Qb4,Nc3,Kh8,Rab1,Ng8,a3,Qa5,Bd2,Nge7,Ng5,h6,Qh3,Nd4,Rfd1,Qd8,f4,Nxc2,Nf3,e5,g4,h5,fxe5,Bxg4,Qg3,dxe5,Nd5,Bxf3,Qxf3,Nxd5,Bxd5,Rb8,Kh1,Nd4,Qg2,Qh4,Bg5,Qg4,Qxg4,hxg4,Rf1,Nf3,Be3,Bf6,Kg2,Bh4,Rxf3,gxf3+,Kxf3,f5,exf5,gxf5,Rg1,b6,Rg6,Rbd8,Rh6+,Kg7,Rxh4,Rxd5,Bh6+,Kf7,Bxf8,Kxf8,Ke3,Kf7,Rh7+,Kf6,Rxa7,Rd4,Rb7,Rd6,b4,e4,bxc5,bxc5,Rb3,exd3,Rxd3,Rxd3+', 'Kxd3,Kg5,a4,Kh4,a5', 'https://lichess.org/training/lo1xs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lo3aU', 'Blitz', 'edo50', 2180, 'CM Keepserene', 2544, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,cxd3,Qb6,Ne2,e6,O-O,Ne7,a3,a5,Nbc3,Nf5,Na4,Qa7,Be3,Nd7,b3,b5,Nb2,Nb6,a4,b4,h3,Be7,Qd2,h5,Bg5,Rc8,Bxe7,Qxe7,Nd1,O-O,Ne3,Qg5,f4,Qg6,Nxf5,Qxf5,Ng3,Qg6,Qe3,h4,f5,Qxg3', 'Rf3,exf5,Rxg3', 'https://lichess.org/training/Lo3aU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lO4sI', 'Rapid', 'sebastianlux', 1827, 'Drag72', 1811, 'd4,Nf6,Nc3,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bc5,e3,Qe7,Nd5,Bb4+,c3,Bxc3+,bxc3,Qd8,e6,fxe6,Nxc7+,Ke7,Qd6+,Kf7,Nxa8,h6,Qc7,Qf6,Be2,Qxc3+,Nd2,Qxa1+,Bd1,Qxa2,Bxg4,Rf8,Ke2,Qa6+,Kf3,g5,Bh5+,Kg7,Kg4,Qe2+,Nf3,gxf4,exf4,Qxf2,g3,Kh8,Qd6,Rg8+,Kh4,b5,Nc7,Bb7,Qxd7,Nd4,Rd1,Nxf3+,Bxf3', 'Qxh2#', 'https://lichess.org/training/lO4sI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lo6Yy', 'Classical', 'Weedlover', 1728, 'LankyLuke', 1827, 'd4,Nf6,Bf4,d5,e3,Bg4,Nf3,e6,Nbd2,c5,c3,Nc6,h3,Bh5,Be2,Be7,Rc1,O-O,Ne5,Bxe2,Qxe2,cxd4,exd4,Bd6,Bh2,Rc8,f4,Nd7,Ndf3,Ndxe5,fxe5,Be7,O-O,a6,Qd2,b5,Bf4,Na5,Qf2,Nc4,Rb1,f6,Qe2,fxe5,Bxe5,Bf6,Rbe1,Qa5,a3,Rf7,Qc2,Rcf8,Bxf6,Rxf6,Ng5', 'Rxf1+,Rxf1,Rxf1+', 'https://lichess.org/training/Lo6Yy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lO781', 'Rapid', 'TMerton', 2103, 'drtanke', 2152, 'f4,d5,Nf3,Nf6,e3,Bf5,b3,Nc6,Bb2,e6,Bb5,Bd6,O-O,O-O,Bxc6,bxc6,d3,Bg4,h3,Bh5,Qe1,Nd7,Nbd2,f5,Qg3,Nf6,Ne5,Bxe5,Bxe5,c5,Nf3,Bg6,Bxf6,Qxf6,Ne5,Rad8,Nc6,Ra8,c4,d4,exd4,cxd4,Rfe1,Rfe8,Ne5,c5,Nxg6,hxg6,Re5,Rec8,Rae1,Rc6,Qf3,Rac8,a3,g5,fxg5,Qxg5,Rxe6,Rxe6,Rxe6,Qc1+,Kh2,Qxa3,Qxf5,Qxb3,Re7,Qb8+,g3,Qb2+,Kg1,Qc1+,Kf2', 'Rf8,Qxf8+,Kxf8', 'https://lichess.org/training/lO781');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lo7kv', 'Blitz', 'pontiak', 1906, 'taxi83', 1915, 'd4,e5,dxe5,d6,Nf3,Bg4,Bf4,Nc6,Nbd2,dxe5,Nxe5,Qf6,Nxg4,Qxf4,e3,Qg5,Bb5,O-O-O,Bxc6,bxc6,f4,Qa5,c3,h5,Ne5,Qd5,Nec4,Qxg2,Rf1,Qxh2,Qa4,Qg3+,Kd1,Bc5,Kc2,Qg6+,e4,Nf6,Rae1,Ng4,f5,Qf6,Rf4,Rhe8,e5,Nxe5,Nxe5,Rxe5,Rxe5,Qxe5,Re4,Qxf5,Qxc6,Rd6', 'Qa8+,Kd7,Qe8#', 'https://lichess.org/training/lo7kv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('loaDu', 'Rapid', 'hunteramit', 1729, 'MA2018NU', 1707, 'e4,Nf6,e5,Nd5,c4,Nb6,a4,a5,Nc3,d6,Nf3,Bg4,exd6,cxd6,Be2,Nc6,d3,e5,O-O,Be7,Nxe5,Nxe5,Bxg4,Nxg4,Qxg4,O-O,Ne4', 'f5,Qd1,fxe4', 'https://lichess.org/training/loaDu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LoAlh', 'Classical', 'Vergara', 1727, 'skakeryeah', 1715, 'd4,d5,c4,dxc4,Qa4+,Nc6,Nf3,e6,e3,Nf6,Bxc4,a6,O-O,Bd6,Nc3,O-O,Rd1,Bd7,Qc2,Nb4,Qd2,Bc6,Be2,Ng4,a3,Bxf3,h3,Nh2,axb4', 'Qg5,Bxf3,Nxf3+,Kh1,Nxd2', 'https://lichess.org/training/LoAlh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lOCD3', 'Classical', 'Avg11', 1741, 'botaklegend', 1780, 'e4,c6,Nc3,d5,exd5,cxd5,g3,Bf5,Bg2,e6,Nf3,Nf6,Nh4,Bg6,Nxg6,hxg6,O-O,Be7,d3,Nc6,a3,Qc7,Bf4,Bd6', 'Nb5,Bxf4,Nxc7+', 'https://lichess.org/training/lOCD3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lOcug', 'Blitz', 'Balcherza', 1978, 'Hudelios', 2093, 'e4,e5,f4,exf4,Nf3,d6,Bc4,h6,O-O,g5,d4,Bg7,c3,Nf6,e5,dxe5,Nxe5,O-O,h3,Nbd7,Ng6,Re8,Qb3,Re7,Nxf4,gxf4,Bxf4,Nb6,Bd3,Nbd5,Be5,Be6,c4,Nb6,Rxf6,Bxc4,Bxc4,Nxc4,Qxc4,Bxf6,Bxf6,Re1+,Kh2,Qxf6,Qxc7,Rae8,a4,Qxd4,Ra3,Qe5+,Qxe5,R1xe5,Rg3+,Kf8,Nc3,Re3,Rg4,a6,Rh4,R3e6,Rg4,Rd8,a5,Rd2,Rb4,Re7,Kg3,f6,h4,Rg7+,Kf4,Rdxg2,Kf5,Rf7,Nd5,h5,Rb6,Rf2+,Ke4,Rg2,Kf5,Rg4,Ke6,Rxh4,Nxf6,Rxf6+,Kxf6,Ra4,Rxb7,Ke8,Ra7,Rxa5,Kg6,h4,Rh7,Ra4,Kg5,Rb4,Kf6,a5,Ke6,Kd8,Kd6,Kc8,Kc6,Kb8,Kc5,Rg4,Kb6,a4', 'Rh8+,Rg8,Rxg8#', 'https://lichess.org/training/lOcug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('loDPp', 'Rapid', 'lurtrester', 1885, 'WhiteHaze', 1898, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,d3,O-O,Bg5,h6,Bh4,d6,Nc3,g5,Qd2,gxh4,Qxh6,Nh7,Nd5,Nb4,Ne3,Qf6,Qh5,a5,a3,Na6,Nd5,Qg6', 'Ne7+,Kg7,Nxg6,fxg6,Qxh4', 'https://lichess.org/training/loDPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LOe1J', 'Rapid', 'rabindranat', 1647, 'liashkevych', 1634, 'e4,e6,Bc4,b6,a3,Bb7,d3,Nf6,Nf3,d5,exd5,Nxd5,Bb5+,c6,Bc4,Bd6,Bd2,O-O,O-O,Qc7,Bxd5,cxd5,Bb4,Nc6,Bxd6,Qxd6,d4,Rfe8,Re1,e5,Nc3,exd4,Nxd4', 'Rxe1+,Qxe1,Nxd4', 'https://lichess.org/training/LOe1J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LOg6w', 'Rapid', 'bpl1980', 1923, 'Akron16', 1826, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Nd5,Nxd5,exd5,Ne7,b3,Ng6,Bb2,a6,Na3,Be7,Bd3,Nf4,Be4,f5,Bf3,e4,Bh5+,Nxh5,Qxh5+,g6,Qh6,Bf6,O-O-O', 'Bg5+,Kb1,Bxh6', 'https://lichess.org/training/LOg6w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LOgAj', 'Rapid', 'Losmajkelos8', 1840, 'Fabe69', 1893, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bh4,d5,Nf3,O-O,e3,Nbd7,cxd5,exd5,Bd3,Re8,O-O,g5,Bg3,Bxc3,bxc3,Ne4,Qc2,Ndf6,Rab1,b6,Ne5,Bb7,c4,c5,cxd5,Bxd5,dxc5,Nxc5,Rfd1,Rc8,Bc4,Nce4,Qb3,Nxg3', 'Bxd5,Nxd5,Rxd5', 'https://lichess.org/training/LOgAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LOhRY', 'Classical', 'Corvampire', 1707, 'nerja25390', 1932, 'e4,c5,b4,cxb4,a3,bxa3,Bxa3,Nc6,Bc4,Nf6,Nc3,g6,Nf3,Bg7,e5,Ng4,Ng5,O-O,Qxg4,Nxe5,Qh4,h6,Nf3,Bf6,Qe4,Nxc4,Qxc4,Re8,O-O,e6,Ne4,Bg7,c3', 'd5,Qe2,dxe4', 'https://lichess.org/training/LOhRY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LoHTy', 'Blitz', 'GM Maksat-94', 2465, 'FM Kaldas90', 2534, 'e4,g6,Nf3,Bg7,d4,c5,dxc5,Qa5+,Bd2,Qxc5,Bc3,Nf6,Nbd2,d6,h3,O-O,Bd3,Nbd7,O-O,b6,a4,a6,Qe2,Bb7,Rfe1,Nh5,Bxg7,Kxg7,Qe3,Qxe3,Rxe3,Nf4,Bf1,Rfc8,Rc1,Nc5,b3,d5,e5,Nfe6,c3,Rc7,Nd4,Rac8,N2f3,h6,Rd1,Nxd4,Nxd4,e6,f3,Bc6,Ra1,Be8,Kf2,b5,axb5,axb5,b4,Na4,Bxb5,Nxc3,Bxe8,Rxe8,Rc1,Ne4+,fxe4,Rxc1,exd5,Rd1,Nb5,exd5,Ke2,Rb1,Nc7,Rd8', 'e6,Rc8,e7', 'https://lichess.org/training/LoHTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LoIJe', 'Rapid', 'kapilkishu', 1616, 'tyuk34', 1645, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,h3,e6,Bg5,Be7,Bxf6,Bxf6,Nf3,O-O,Be2,Nc6,Nc3,a6,O-O,Qb6,cxd5,Nxd4,dxe6,Bxe6,Nxd4,Bxd4,Na4,Qd8,Rc1,b5,Nc5,Bxa2,Ne4,Bxb2,Rc2,Bb3', 'Qxd8,Rfxd8,Rxb2', 'https://lichess.org/training/LoIJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LojR6', 'Rapid', 'rey100', 2008, 'thekkkkkk', 1721, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Bb6,O-O,d6,h3,Nf6,d3,h6,Re1,O-O,Nbd2,a6,Bb3,Ba7,Nf1,Kh8,Ng3,Nh7,Nh5,Qe7,d4,Nd8,Ng3,Ne6,Be3,Neg5,Bc2,Bd7,a4,Rad8,Qe2,Rfe8,Rad1,Bb6,b4,f6,Nh5,Qf7,Ng3,Bc6,d5,Bd7,Nh4,Bxe3,Qxe3,Nf8,Nhf5,Qg6,f4,Ngh7,fxe5,dxe5,Rf1,Ng5,h4,Ngh7,Qf3,Bxf5,Nxf5,Qf7,Qg4,g6,Ng3,h5,Qf3,Qe7,Rf2,Nd7,Rdf1,Rf8,Qe2,Qe8,Qe3,Kg7,Kh1,Nb6,a5,Nc4,Qd3,Qb5,Qe2,c6,Nxh5+,gxh5,Qxh5,Ne3,Re1,Nxc2,Rxc2,cxd5,exd5,Qxd5,Rf2,Kh8,Qf5,Qd7,Qe4,Qd5,Qf5,Qc4,Ref1,Qxh4+,Kg1,Qg5,Qe4,Rf7,Rf5,Qg7,Qh4,Rd2,R1f2,Rxf2,Qxf2,Qg6,Rf3,Ng5,Rg3,Qh6,Qf5,Rg7,Qc8+,Kh7,Qf5+,Kh8,Qc8+,Rg8,Qf5,Qh7,Qxf6+,Qg7,Qf5,Qg6,Qxe5+,Qg7', 'Rxg5,Qxe5,Rxe5', 'https://lichess.org/training/LojR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LoK60', 'Rapid', 'Brrada', 2008, 'LLimone', 2064, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,a5,c3,c6,Be2,dxc3,Nxc3,Bc5,d4,Bb6,d5,d6,Bf4,Bc7,Re1,Nf6,dxc6,bxc6,e5,dxe5,Qxd8+,Bxd8,Bxe5,O-O,Bf3,Bb7,Rac1,Rc8,Ne4,Nd5,Nd6,Rb8,Nxf7,Ra8,Nd6,Ba6,Rxc6,Nb4,Rcc1,Rxf3,gxf3,Nd3,Bc3,Bb6,Ne4,Nxc1,Rxc1,Rf8,Kg2,Be2,Nd2,Rf5,h4,g5,Rg1,g4,fxg4,Rxf2+,Kg3,Rf8,Re1', 'Bf2+,Kh3,Bxe1', 'https://lichess.org/training/LoK60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LOKVa', 'Blitz', 'Sledak', 1803, 'jklvg2006', 1732, 'f4,e6,e4,d5,e5,c5,Nf3,Nc6,Be2,Qb6,O-O,Nge7,Nc3,Ng6,Na4,Qa5,b3,Nxf4,d3,Ng6,Bd2,Qc7,d4,cxd4,Bb5,Bd7,Bxc6,Bxc6,Nxd4,Bxa4,bxa4,Qxe5,Nb5,Bc5+,Kh1,O-O,Bc3,Qb8,Bd4,Bxd4,Qxd4,a6,Nc3,Qc7,Ne2,Qxc2,Ng3,Rac8,Nh5,f6,Qe3,Qe4,Qh3,Rc2,Rae1,Qxa4,Qxe6+,Kh8,Nxf6,Rxf6', 'Qe8+,Qxe8,Rxe8+,Nf8,Rxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/LOKVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LoLrh', 'Rapid', 'Brandon1976', 1996, 'alkhinalexander', 2048, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Ne5,c5,c3,Nc6,Nd2,O-O,Ndf3,Qc7,h3,cxd4,exd4,Ne4,Qc2,f6,Nxc6,bxc6,Be3,e5,O-O-O,Rb8,Bd3,exd4,Nxd4,c5,Nf3,Bf5,g4,Bg6,Nh4,c4,Nxg6,cxd3,Rxd3,hxg6,Rxd5,Nc5,Qxg6,Bf4,Kc2,Bxe3,fxe3,Na4,Rb1,Qh2+,Rd2,Qxh3,Qe4,Nb6,Rh1,Rfe8', 'Qxe8+,Rxe8,Rxh3', 'https://lichess.org/training/LoLrh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LOLUI', 'Rapid', 'tash01', 1731, 'mario1979', 1636, 'd4,d5,Bf4,a6,e3,Nf6,c3,e6,Nd2,h6,h3,Bd6,Bd3,Bxf4,exf4,Nc6,Ngf3,Bd7,b4,a5,a3,axb4,axb4,Na7,Ne5,Bb5,O-O,Bxd3,Nxd3,Nb5,Qc2,O-O,Ne5,Nd7', 'Rxa8,Qxa8,Nxd7', 'https://lichess.org/training/LOLUI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('loOwS', 'Classical', 'darpok', 1902, 'CheckonMatew', 1613, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,O-O,Bd3,d6,O-O,c5,Qe3,Re8,Qg3,d5,Nxd5,Nxe4,Qf4,Qxd5,Rae1,Nf6,Rxe8+,Nxe8,Qh4,Nf6,Rd1,Qxa2,Bxh7+,Nxh7', 'Rd8+,Nf8,Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/loOwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lor1Z', 'Blitz', 'kukulagosleep', 1867, 'Strike_The_King', 1855, 'd4,Nf6,Nf3,e6,Nc3,b6,Bg5,Bb7,e3,Be7,Bd3,O-O,h4,c5,dxc5,bxc5,Bxf6,Bxf6,Bxh7+,Kxh7,Ng5+,Kg8', 'Qh5,Bxc3+,bxc3,Be4,Nxe4', 'https://lichess.org/training/Lor1Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LoRm5', 'Rapid', 'dorsa1126', 1867, 'BlundersOften', 1914, 'e4,c5,c3,d6,Nf3,Nf6,e5,dxe5,Nxe5,Qc7,Nf3,e6,d4,cxd4,Qxd4,Nc6,Qd1,Bd6,Be3,O-O,Bd3,Bd7,O-O,Ng4,Bxh7+,Kxh7,Ng5+,Kg8,Qxg4,Bxh2+,Kh1,f6,Nf3,e5,Qh4,Bf4,Bxf4,exf4,Nbd2,Kf7,Qh5+,Ke7,Rae1+,Be6,Qc5+,Kd7,Kg1,Rae8,Nc4,Bxc4,Qxc4,Kc8,b4,Kb8,Re4,g5,Rfe1,Rxe4,Rxe4,Rd8,Nd4,Rh8,Nxc6+,bxc6,Re6,Qh7,Kf1,Qb1+,Ke2,Qc2+,Kf3,g4+,Kxg4,Rg8+,Kf3,Qg6,Qxf4+,Ka8,a4,Qxg2+,Ke3', 'Qh3+,Qf3,Qxe6+', 'https://lichess.org/training/LoRm5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lorn2', 'Blitz', 'Ramza_jr', 1808, 'shkumbin', 1631, 'Nf3,d5,Nc3,Bg4,e4,dxe4,Nxe4,Nf6,Ng3,e6,Bc4,Bd6,O-O,O-O,d4,a6,a3,b5,Ba2,Nc6,c3,Na5,Bg5,c5,d5,exd5,Bxf6,Qxf6,Qxd5,Rad8,Ne4,Qf4,Nxd6,Rxd6,Qg5,Qe4,Bb1,Qc4,Ne5', 'Qxf1+,Kxf1,Rd1#', 'https://lichess.org/training/Lorn2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('losHm', 'Rapid', 'sybertiger', 1634, 'murayama_sannn', 1668, 'e4,e5,Nc3,Nf6,f4,d6,fxe5,dxe5,Nf3,Bb4,Nxe5,Nc6,Nxc6,bxc6,Bc4,a5,d3,Qd6,Qf3,h5,Be3,Bg4,Qf4,Qxf4,Bxf4,O-O-O,O-O,h4,Bxf7,Rdf8,Bb3,Nh5,Bg5,h3,g3,Nxg3,Rxf8+,Rxf8,hxg3,Rh8,Kh2,Bc5,Rf1,Kd7,Rf7+,Kc8,Rxg7', 'Bg1+,Kh1,Bf3+,Kxg1,h2+,Kf2,h1=Q', 'https://lichess.org/training/losHm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LosJq', 'Rapid', 'PityFly', 1840, 'lara1969', 1797, 'f4,Nc6,e4,e5,Nf3,exf4,d4,Be7,Bxf4,d6,Bb5,Bd7,O-O,h6,e5,d5,Nc3,Be6,a3,a6,Ba4,b5,Bb3,b4,axb4,Bxb4,Qd3,Bxc3,Qxc3,Nge7,Ba4,Bd7,Qc5,O-O,Bg3,Rb8,Bh4,Rb6,Bxc6,Rxc6,Qxe7,g5,Qxd8,Rxd8,Bg3,Rxc2,Rf2,Rc4,Rxa6', 'Rc1+,Rf1,Rxf1+,Kxf1,Bb5+,Kf2,Bxa6', 'https://lichess.org/training/LosJq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lOTKu', 'Rapid', 'aligenius5', 1914, 'pats10536', 1925, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bc4,Bd7,O-O,g6,Re1,Bg7,Nf3,O-O,e5,dxe5,Nxe5,Nxe5,Rxe5,Rc8,Bb3,Ng4,Rd5,Nf6,Rd3,Qc7,Bg5,Bf5,Nb5,Qb6,Bxf6,Bxf6,Rd5,Bxb2,Rb1,Bg7,Nd4,Be4,Rd7,Qf6,Nb5,Qg5,g3,Qxb5', 'Bxf7+,Kxf7,Rxb5', 'https://lichess.org/training/lOTKu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lOUNJ', 'Blitz', 'elchechereche', 2468, 'FM Lioni26', 2539, 'e4,c5,d4,cxd4,c3,d3,c4,Nc6,Bxd3,g6,Nf3,Bg7,O-O,d6,h3,Nf6,Nc3,O-O,Bg5,Qa5,Qd2,Re8,Bh6,Bxh6,Qxh6,Qh5,Qe3,Be6,b3,Rac8,Nd5,Bxd5,exd5,Ne5,Nxe5,dxe5,Qxa7,e4,Bc2,b5,Qd4,bxc4,bxc4,Qh4,f3,e5,dxe6,Rxe6,Bxe4,Nxe4,Rae1,Rce8,fxe4,Rxe4,Rxe4,Rxe4,Qd5,Re6,c5,Qa4,Rc1,Qf4,Qc4', 'Re1+,Rxe1,Qxc4', 'https://lichess.org/training/lOUNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lOvzW', 'Rapid', 'Nilderin', 1726, 'gerasalinas', 1714, 'e4,e5,Nf3,d6,Bc4,h6,d3,Nf6,Nc3,Nc6,h3,a6,a4,Bd7,O-O,Be7,Nh2,O-O,f4,exf4,Bxf4,Be6,Nd5,Bxd5,Bxd5,Nxd5,exd5,Ne5,Qe2,Bf6,Ng4,Ng6,Nxf6+,Qxf6,Bxh6,Qd4+,Be3,Qxb2,Rab1,Qe5,Qf3,b6,Rf2,Rae8,Bf4,Nxf4,Qxf4,Qxd5,Rbf1,Qc5,Kh1,b5,axb5,axb5,Qh4,Qd5,Rf5,Qe6,Rh5,f6,Rh8+,Kf7,Qh5+,Ke7,Rh7,Rf7,Qxb5,g5,Rxf7+,Kxf7,Qc6,Qe7,Qf3,Rh8,Qd5+,Qe6,Qc6,Qe7,Rb1,g4,Kh2,gxh3,gxh3,Qe5+,Kg2,Rg8+,Kf2,Qg3+,Ke2,Re8+,Kd2,Qf2+,Kc3,Re7,Qd5+,Kg7,Qc4,c5,Qg4+,Kf7,Qh5+,Ke6,Qg4+,Kf7,Rg1,Ke8', 'Qc8+,Kf7,Qg8#', 'https://lichess.org/training/lOvzW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LoWfj', 'Rapid', 'notnodoz', 1687, 'Aritra2k2', 1731, 'd4,Nf6,c4,e5,Nc3,exd4,Qxd4,Nc6,Qd1,Bc5,Nf3,O-O,Bg5,Bb4,Bxf6,Qxf6,Qd2,Bxc3,Qxc3,Qxc3+,bxc3,d6,e4,Bg4,Be2,Na5,Nd2,Bxe2,Kxe2,Rfe8,f3,f5,Kf2,fxe4,fxe4,Re5,Rhe1,Rc5,Nb3,Rxc4,Nxa5,Rxc3,Nxb7,Rc2+,Re2,Rf8+,Ke1,Rxe2+,Kxe2,Rb8,Rb1,Kf7,Kd2,Ke7,Kc2,Rf8,Rb2,Rf4,Na5,Rxe4,Nb3,d5,Nc5', 'Rc4+,Kd3,Rxc5', 'https://lichess.org/training/LoWfj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lOwJn', 'Classical', 'k1980', 1868, 'aroostaei', 1868, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Bd6,Nf3,Qf6,Nc3,Be6,e4,d4,Nd5,Qg6,Qe2,Nf6,Nxf6+,Qxf6,h3,O-O,c3,dxc3,Bxc3,Nb4,d4,c6', 'dxe5,Bxe5,Bxe5', 'https://lichess.org/training/lOwJn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lOwUR', 'Blitz', 'Junior100', 1685, 'armand-dibule72', 2108, 'e4,c5,Nc3,Nc6,Bc4,e6,d3,g6,f4,Bg7,Nf3,Nge7,O-O,d5,Bb3,O-O,Qe1,a5,a4,dxe4,dxe4,Nd4,f5,Nxf3+,Rxf3,exf5,Qh4,fxe4,Qxe4,Bf5,Qe2,Qd4+,Be3,Qd6,Qf2,Nc6,Bxc5,Qc7,Bxf8,Bd4,Re3,Rxf8,Qe2,Re8,Nd1,Qb6,Kh1,Bxe3,Nxe3,Qxe3,Qd1,Nd4,Ba2,Bxc2,Qf1,Bd3', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/lOwUR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LOyZV', 'Rapid', 'Bernd010565', 1803, 'prajval11', 1830, 'e4,c5,Bc4,e6,Nc3,Nf6,d3,d5,exd5,exd5,Bb3,a5,Bg5,Bd7,Bxf6,Qxf6,Nxd5,Qxb2,Nc7+,Kd8,Nxa8,Nc6,Nb6,a4,Nxd7,axb3,Nxf8,bxc2,Qc1,Qc3+,Kf1,Qxd3+,Ne2,Nd4,Qe3', 'Qd1+,Rxd1,cxd1=Q#', 'https://lichess.org/training/LOyZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lp02d', 'Rapid', 'DarkTitan', 984, 'Ander94', 881, 'd4,e6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,e5,Nxe5,Qe7,Ndc4,b5,Na3,a6,e3,f6,Nf3,f5,c4,bxc4,Bxc4,Qb4+,Qd2,Qxd2+,Nxd2,Nf6,O-O,Ne4,Nxe4,fxe4,Bb3,d5,Bxd5,c6,Bxc6+,Nxc6,Nc4,Kd7,Ne5+,Kd6,Nxc6,Kxc6,b4,Kb5,a3,Kb6,d5,Bg4,f3,exf3,gxf3,Bh3,Rfd1,g5,Kf2,g4,Kg3,Rhg8,d6,Rad8,Rd4,h5,e4,Rge8,Re1,Kc6,d7,Rxd7', 'Rc1+,Kb6,Rxd7', 'https://lichess.org/training/Lp02d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lp3aO', 'Rapid', 'MrFish324', 1833, 'Pawnwinner', 1681, 'e4,e5,d4,exd4,c3,Nc6,Nf3,dxc3,Bc4,Be7,Nxc3,d6,O-O,Nf6,a3,Bg4,h3,Bh5,g4,Bg6,Re1,O-O,h4,Nxg4,Nd5,Nge5,Be3,Nxc4,Ng5,Nxe3,Rxe3,Rc8,f4,h6,f5,Bh7,Nxh7,Kxh7,Qg4,Bxh4,Rh3,Bg5,Kh1,Ne5,Qg2,c6,Nc3,Qb6,Qxg5,Qxb2,Rg1,Rg8,f6,Qxc3,Qxg7+,Rxg7', 'Rxg7+,Kh8,Rxh6#', 'https://lichess.org/training/lp3aO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lp3oh', 'Blitz', 'Alkostar', 1979, 'CM Shanem123', 2188, 'e4,c5,Bc4,Nc6,Nf3,Nf6,e5,Ng4,d4,cxd4,Bxf7+,Kxf7,Ng5+,Kg8,Qxg4,d6,e6,Ne5,Qxd4,h6,Nf7,Nxf7,exf7+,Kxf7,O-O,e5,Qd1,Be7,Nc3,Rf8,f4,Kg8,fxe5,dxe5,Rxf8+,Qxf8,Qd5+,Kh8,Be3,Qf6,Rf1,Qe6,Qe4,Bd7,Qf3,Rf8,Qe2,Rxf1+,Qxf1,Bc6,Qe2,Bb4,Bd2,Bxc3,Bxc3,e4,Qe3,Qxa2', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/Lp3oh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lp3pi', 'Rapid', 'invisibleCommittee', 1788, 'Antonio_dlhd', 1828, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,f3,Nc6,Qd2,Na5,Nd5,Nxb3,axb3,Nxd5,Qxd5,O-O,Bc4,Bh4+,Bf2,Bxf2+,Kxf2,Qh4+,g3,Qf6,Rad1,Bg4,Be2,Rfd8,Qxb7,Rab8,Qxa6,Bh5,g4,Bxg4,h3,Bh5,Rhg1,Qh4+,Rg3,Qf6,Rdg1,Bg6,Rg4,h5,Rg5,Bxe4,Rxg7+,Kf8,Rg8+,Ke7,Qa7+,Rb7,Qe3,Qh4+,Kf1,Qxh3+,Ke1,Rxg8,Rxg8,Qh4+,Kd2,Bg6,Bc4,Qh2+,Be2,Rc7,c4,Qh4,Kc3,d5,Qxe5+,Kd7,Qxd5+,Ke7,Qe5+,Kd7,Re8', 'Qe1+,Kd4,Qd2+,Bd3,Qxd3#', 'https://lichess.org/training/lp3pi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lp3Rq', 'Rapid', 'Bastien10', 1657, 'sileem128', 1793, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Bb4,Qa4+,Nc6,cxd5,Bxc3+,bxc3,exd5,Nf3,Bd7,e3,O-O,Bd3,h6,Bh4,Ne5,Qd1,Ng6,O-O,Nxh4,Nxh4,Bg4,f3,Be6,g4,g5,Nf5,Bxf5,Bxf5,Re8,Qe1,Kg7,h4,gxh4,Qxh4,Rxe3,g5,Ng8,Rf2,Qxg5+', 'Rg2,Kf6,Rxg5', 'https://lichess.org/training/Lp3Rq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lp3WF', 'Rapid', 'kathdran', 1737, 'ForWhenIAmDrunk', 1810, 'b3,d5,Bb2,Nf6,e3,c5,c4,Bf5,Nf3,e6,Be2,Be7,O-O,O-O,Nh4,Be4,f3,Bg6,Nxg6,hxg6,f4,Nc6,d4,Qd7,cxd5,Qxd5,Nc3,Qd7,Bf3,cxd4,Bxc6,Qxc6,Qxd4,Rad8,Qa4,Qxa4,Nxa4,Rd2,Bd4,Rc8,Rfd1,Rdc2,Bxa7,Ne4,a3,b5,Nb6,R8c3,b4,Rxe3,Nd5,exd5,Bxe3,Bf6,Rac1,Ra2,Rxd5,Nc3,Rd3', 'Ne2+,Kf1,Nxc1,Bxc1,Ra1,Ke2,Rxc1', 'https://lichess.org/training/lp3WF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lp4wV', 'Rapid', 'azuaga', 2014, 'Hanzyn', 2117, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nf3,Be7,Be2,O-O,O-O,Nc6,a3,a5,b3,Bg4,Bb2,Bf6,Re1,Re8,Nbd2,Qd7,Qc2,Rxe2,Rxe2,Nxd4,Bxd4,Bxd4,Nxd4,Bxe2,Nxe2,Re8,Ng3,Qg4,h3,Qg5,Nf3,Qf6,Rd1,Nd7,Qd2,Nc5,Qxa5,b6,Qb4,Qb2,Qb5,Re7,b4,Ne6,Re1,g6,Ng5,Qd2,Re2,Qxg5', 'Qxg5,Nxg5,Rxe7', 'https://lichess.org/training/lp4wV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lp8NW', 'Rapid', 'Arturbik', 1611, 'Niltonparente', 1654, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bc4,Be7,O-O,O-O,Nc3,Bg4,f3,Bh5,Nf5,Bg6,Nxe7+,Qxe7,Nd5,Nxd5,Qxd5,c6,Qd4,c5,Qe3,Nc6,Bd2,Nd4,Bb3,a5,a4,Rfe8,Bc3,Nxb3,cxb3,d5,Qf4,d4,Bd2,Rac8,Bxa5,c4,bxc4,Rxc4,b3,Rc2,Bb6,d3,Rad1,Rc3,Ba5', 'Qc5+,Rf2,Qxa5', 'https://lichess.org/training/Lp8NW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lp8Vq', 'Blitz', 'julioazorpad', 2016, 'galvezmotril', 2098, 'e4,c5,Nf3,e6,c3,Qa5,d4,a6,Bd3,cxd4,Nxd4,d6,O-O,Nf6,b4,Qc7,Bf4,Be7,Nf3,Nbd7,Re1,b5,Qd2,Bb7,e5,dxe5,Nxe5,Nxe5,Bxe5,Qb6,Bd4,Qc7,Qc2,h6,Nd2,Rc8,Ne4,Nxe4,Bxe4,Bxe4,Qxe4,O-O,Qg4,g6,Be5,Qc4,Qh3,Kh7,Re3,Bg5,f4,Be7', 'Qxh6+,Kxh6,Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/lp8Vq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lp9ml', 'Rapid', 'Annbuut', 1676, 'dundara', 1730, 'd4,Nf6,d5,d6,Nc3,e6,dxe6,Bxe6,Bg5,Be7,e3,O-O,h3,a6,Bd3,Nc6,Bxf6,Bxf6,Qh5,g6,Qd1,Bg7,Nf3,Re8,h4,Ne7,Ng5,Bf5,e4,Bd7,O-O,h6,Nf3,Nc6,a3,Bg4,Be2,Bxf3,Bxf3,Qxh4,Re1,Be5,g3,Qg5,Bg4,h5,Bh3,Nd4,Bg2,h4,f4,Bxf4,gxf4,Qg3,Qxd4,h3,Qf2,h2+,Kf1,Qg4,Bh1,Kg7,Qxh2,Rh8,Qg1,Qxf4+,Qf2', 'Rxh1+,Ke2,Rh2,Qxh2,Qxh2+', 'https://lichess.org/training/Lp9ml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lPAdd', 'Blitz', 'moeh_aqib', 2234, 'istinyeli', 1919, 'e4,e5,Bc4,Nf6,Nc3,Nc6,f4,Bb4,Nf3,exf4,d3,Na5,Bb3,Nxb3,axb3,d5,e5,d4,exf6,dxc3,Qe2+,Be6,O-O,Qxf6,bxc3,Bxc3,Ra4,O-O,Rxf4,Qe7,Kh1,Rfe8,Nd4,Bd5,Qg4,Qc5,Be3,Rxe3,Nf5,Re6,Qxg7+,Bxg7,Rg4,Rg6,Rxg6,fxg6,d4,gxf5,dxc5,Be4,h3,Rd8,b4,Rd2,Rg1,Rxc2,h4,Rb2,h5,Rxb4,Kh2,Bf6,Kh3,h6,g3,Bg5,Rd1,Kf7,Rd7+,Be7,Rxc7,Bc6,Rc8,Ke6,Rh8,Bxc5,Rxh6+,Ke5,Rg6,Be4,h6,Bf2,h7,Rb3', 'h8=Q+,Kd5,Qg8+,Kc5,Qxb3', 'https://lichess.org/training/lPAdd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LPAZB', 'Rapid', 'palmer13579', 1948, 'Rickiboulous1', 2066, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bd3,Qxd4,Be3,Qd8,Nxf6+,exf6,Qe2,Be6,O-O-O,Qa5,Bc4,Bxc4,Qxc4,Be7,Nf3,O-O,h4,b5,Qg4,Qxa2,Bh6,g6,Bxf8,Bxf8,h5,Bh6+,Ng5,f5,Qh4,Qa1+,Kd2,Qxb2,hxg6,Na6,Qxh6,Qd4+,Ke1', 'Re8+,Ne4,Rxe4+', 'https://lichess.org/training/LPAZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LPbR4', 'Classical', 'ShankarMR4321', 1666, 'dirty_bart', 1677, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d3,Bc5,O-O,Nd4,Be3,Qe7,Bxd4,exd4,e5,Ng4,a3,O-O,Nbd2,Nxe5,Re1,Nxf3+,Qxf3,Qg5,Ne4,Qe5,Nxc5,Qxc5,Qg3,d5,Bb3,a5,c4,dxc4,dxc4,Be6,Rac1,Rad8,Re5,Qb6,Bc2,Qxb2,Ree1,d3,Bxd3,Qxa3', 'Bxh7+,Kxh7,Qxa3', 'https://lichess.org/training/LPbR4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lPBtN', 'Blitz', 'erikswe', 2292, 'PlanMaestro', 2177, 'e4,c5,Nf3,Nc6,Nc3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nf6,Bc4,O-O,Bb3,Qa5,O-O,e6,f4,d5,e5,Nd7,Nf3,Nc5,Qe1,Nxb3,axb3,Qd8,Rd1,b6,Ne4,Ba6,Rf2,Qc8,Nf6+,Kh8,Ng5,h6,Rf3,Qd8,Rh3,d4,Qh4,Qe7,Qxh6+,Bxh6', 'Rxh6+,Kg7,Rh7#', 'https://lichess.org/training/lPBtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lpcmP', 'Rapid', 'Pitsirdelis', 2137, 'Bartok97', 2262, 'e4,e5,Nf3,Nc6,Bc4,g6,h4,Bg7,h5,h6,hxg6,fxg6,Nh4,Nce7,c3,c6,Qb3,d5,exd5,cxd5,Bb5+,Bd7,d3,Nf6,Nd2,a6,Bxd7+,Qxd7,Ndf3,Qc7,g3,O-O-O,Be3,g5,Bb6,Qd6,Bxd8,Rxd8,Ng2,e4,Nd4,Ng4,O-O,Be5,Qb4', 'Qxb4,cxb4,Bxd4', 'https://lichess.org/training/lpcmP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LPD56', 'Rapid', 'Zamir86', 2066, 'Kolazor-2-3', 2051, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,e5,O-O,d5,Nd2,Bd6,c3,O-O,Qc2,a5,Re1,Ba6,Bxa6,Rxa6,exd5,cxd5,Nf3,Qc7,Qf5,Ne4,Ng5,g6,Qh3,Nxg5,Bxg5,f5,Qd3,Qc4,Qxc4,dxc4,Rad1,Re8,Rd5,Kf7,Bc1,Rb8,Red1,Ke6,f3,a4,a3,h6,g3,g5,Kf2,Rc8,Rb5,Rb8', 'Rxd6+,Rxd6,Rxb8', 'https://lichess.org/training/LPD56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lPD5Q', 'Rapid', 'jherni_vasquez-1', 1946, 'camiloramov', 1901, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,bxc6,f3', 'Qh4+,g3,Nxg3', 'https://lichess.org/training/lPD5Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LPdbf', 'Rapid', 'KingYac', 1883, 'thekallergiplan', 1880, 'd4,f5,c4,Nf6,Nc3,g6,a3,Bg7,h4,O-O,e3,Qe8,Be2,d6,h5,e5,d5,f4,hxg6,Qxg6,exf4,exf4,Bf3,Re8+,Kd2,Bf5,Nge2,Ne4+,Nxe4,Bxe4,Nxf4,Qg5,g3,Be5,Rh5', 'Bxf4+,gxf4,Qxf4+', 'https://lichess.org/training/LPdbf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LPDkr', 'Classical', 'ozgecanesen', 1869, 'tolya622', 1873, 'e4,e5,Nf3,Nc6,Bc4,a6,d4,b5,Bd5,exd4,Nxd4,Nge7,Nxc6,dxc6', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/LPDkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LpdV0', 'Blitz', 'cup_o_slaw', 1799, 'remos_edm', 1820, 'e4,e5,Nf3,f5,exf5,e4,Ne5,Qf6,Nc4,d5,Ne3,Ne7,Bb5+,c6,Ba4,Nxf5,O-O,Bd6,Qh5+,g6,Qe2,O-O,Nc3,b6,Ncd1,Ba6,d3,exd3,cxd3,Bxh2+,Kxh2,Qh4+,Kg1,Nd4,Qg4,Rf4,Qxh4', 'Ne2+,Kh1,Rxh4#', 'https://lichess.org/training/LpdV0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lPDYX', 'Classical', 'BitBaSS111', 1874, 'RexvonBizz', 1742, 'd4,Nf6,c4,e5,d5,Bb4+,Nc3,Ne4,Qb3,Qe7,Nf3,Na6,a3,Bxc3+,bxc3,Nac5,Qc2,O-O,a4,a5,Ba3,b6,e3,Ba6,Bd3,f5,O-O,Nd6,Bxc5,bxc5,Nd2,e4,Be2,Rf6,Rab1,Rh6,g3,Rf8,Kg2,f4,exf4,Nf5,Qxe4,Nh4+,gxh4,Qxh4,Rh1', 'Qh3+,Kg1,Rg6+,Qxg6,hxg6', 'https://lichess.org/training/lPDYX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LpEzZ', 'Rapid', 'lovelorn69', 1971, 'Crunky', 1937, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Be3,Qb6,b3,cxd4,Bxd4,Nxd4,cxd4,Bb4+,Nd2,Qxd4,Nf3,Bxd2+,Nxd2,Qxe5+,Be2,Bd7,O-O,Nf6,Nf3,Qd6,Re1,O-O,Bd3,Rac8,h3,Rc7,Ne5,Rfc8,f4,Qb4,Qf3,Rc3,Rad1,Bb5,f5,exf5,Qxf5,Bxd3,Rxd3,Rxd3', 'Qxc8+,Qf8,Qxf8+,Kxf8,Nxd3', 'https://lichess.org/training/LpEzZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LpfQJ', 'Blitz', 'Centurionmer', 2257, 'usernameisalreadyinu', 2214, 'e3,c5,f4,d5,Nf3,Nc6,d4,Bg4,c3,e6,Bd3,f5,O-O,Nf6,Nbd2,Bd6,Qa4,O-O,Ne5,Bxe5,fxe5,Ne4,Nf3,a6,Qc2,b5,Bd2,Qe7,Be1,Rac8,Qd1,c4,Be2,a5,Nd2,Bxe2,Qxe2,Nxd2,Bxd2,Kh8,Be1,Rg8,Kh1,Qg5,Rf4,Rcf8,Rh4,Qe7', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/LpfQJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lPIcH', 'Rapid', 'breizhmasters', 2080, 'danielfc', 2034, 'c4,c5,g3,Nc6,Bg2,Nf6,Nc3,g6,e3,Bg7,Nge2,O-O,d4,cxd4,exd4,d6,O-O,Rb8,Nf4,e5,d5,exf4,dxc6,fxg3,hxg3,bxc6,Bxc6,Qc7,Bd5,Ba6,b3,Qc5,Be3,Qb4,Bd4,Qa5,a3,Nxd5,Bxg7', 'Nxc3,Bxc3,Qxc3', 'https://lichess.org/training/lPIcH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LpIj0', 'Rapid', 'Wuruma', 1684, 'tredytime', 1632, 'e4,d5,f3,dxe4,fxe4,c6,Nf3,h6,d4,Bg4,Be2,Bxf3,Bxf3,e6,Be3,Nf6,Nd2,Bb4,c3,Ba5,Nc4,Bc7,e5,Nd5,Bd2,Qh4+,g3,Qd8,Qc2,Nb6,Ne3,N8d7,Bh5,Nd5,Nxd5,cxd5,Rf1,O-O,Bxh6,gxh6,Rf4,Qg5', 'Rg4,Qxg4,Bxg4', 'https://lichess.org/training/LpIj0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LPIZf', 'Rapid', 'wapc1225', 1670, 'juragantomat', 1800, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d3,d5,exd5,Nxd5,Nxd5,Qxd5,Bd2,Bg4,Be2,e4,dxe4,Qxe4,O-O,O-O-O,h3,Bf5,Bd3,Rxd3,cxd3,Qxd3,Bc3,Qxd1,Raxd1,Bb4,Ne5,Bxc3,Nxc6,Bxb2', 'Ne7+,Kb8,Nxf5', 'https://lichess.org/training/LPIZf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lPJic', 'Rapid', 'canereis', 1802, 'Henk', 1796, 'd4,d5,Nc3,Nf6,Nf3,c5,dxc5,Nc6,Bg5,h6,Bxf6,exf6,e4,d4,Na4,Bg4,Bb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/lPJic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LPJSu', 'Blitz', 'titog', 1879, 'emeklisatrancci', 2213, 'c4,e5,d3,Nc6,Nf3,f5,Nc3,Nf6,g3,Bc5,Bg2,O-O,O-O,a6,Nd5,d6,Bg5,h6,Nxf6+,gxf6,Bxh6,Rf7,Nh4,Rh7,Be3,Nd4,Bxd4,Bxd4,e3,Bxb2,Rb1,Ba3,e4,f4,Nf5,Bc5,Kh1,fxg3,fxg3,Kf7,Qg4,Qh8,h4,b5,Kh2,Be6,Bh3,Rg8,Nh6+,Rxh6,Qxe6+,Kf8,Qc8+,Kg7,Qxc7+,Kf8,Be6', 'Rxh4+,gxh4,Qxh4+,Bh3,Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/LPJSu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LPMl1', 'Classical', 'neovice', 1602, 'ipodvez2015', 1670, 'e4,e5,Nf3,d6,Nc3,c6,Bc4,Be6,Bxe6,fxe6,d3,h6,O-O,Nf6,Be3,Nbd7,a4,a5,Ra3,d5,Rb3,Rb8,exd5,exd5,Ba7,Nc5,Bxb8,Nxb3,Bxe5,Nc5,Bxf6,Qxf6,Re1+,Be7,Ne5,Ne6,Qh5+,Kd8,Ng6,Re8,Nxe7,Rxe7,Re5,Qf4,Rf5,Qc1+,Nd1,Ng5,Rf8+,Kc7,h3,Re1+,Kh2,Rxd1,Qe8,Re1,Qc8+,Kb6,Qd8+,Kc5,Qxa5+,b5,axb5,Rh1+,Kg3,Rxh3+,gxh3,Qg1+,Kh4', 'Nf3+,Rxf3,Qg5#', 'https://lichess.org/training/LPMl1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lPMPu', 'Rapid', 'Erdel', 1850, 'enigo', 1779, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,Nc3,Be7,g4,Nc6,Ne2,Qd7,c3,O-O-O,d3,h6,Be3,Qe8,b4,Kb8,a4,a6,b5,axb5,axb5,d5,bxc6,dxc4,Ba7+,Kc8,Qf5+,Nd7,cxd7+,Rxd7,d4,exd4,Nxd4,g6,Qa5,Bd6,Bc5', 'Qxe4+,Kd1,Qxh1+', 'https://lichess.org/training/lPMPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lpngD', 'Rapid', 'zachjliddle', 1673, 'captmj1896', 1707, 'e4,g6,d4,Bg7,e5,d6,Nf3,dxe5,dxe5,Qxd1+,Kxd1,Nc6,Bf4,Bg4,Be2,O-O-O+,Nbd2,Nd4', 'Nxd4,Bxe2+,Nxe2', 'https://lichess.org/training/lpngD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lpoM5', 'Blitz', 'LudoChess1979', 1833, 'Aspad', 1767, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,c3,O-O,d4,exd4,cxd4,Bb6,e5,Ne8,Bg5,Ne7,Nc3,Bb7,d5,d6,Re1,h6,Bh4,dxe5,Bxe7,Qxe7,Nxe5,Qd6,Bc2,Nf6,Qd3,Rfe8,Ng4,Rxe1+,Rxe1,Qf4', 'Nxf6+,Qxf6,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/lpoM5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lpp4c', 'Rapid', 'GIANNISPAP39', 1716, 'invitado79', 1685, 'd4,d6,Nf3,g6,Nc3,Bg7,Bg5,Nf6,Bxf6,exf6,h4,h5,e3,c6,Be2,d5,Nd2,Be6,g4,Qd7,gxh5,gxh5,Bxh5,Qe7,Bg4,Nd7,Bxe6,fxe6,Qe2,O-O-O,O-O-O,Kb8,h5,e5,dxe5,fxe5,Nf3,e4,Nd4,Nb6,Nf5,Qd7,Nxg7,Qxg7,Rdg1,Qe7,h6,Qd6,h7,Rd7,Rg8+,Rd8,Qg4,Qf6,Rxd8+,Qxd8,Qf4+,Ka8,Qf5,Nd7,Rg1,Nf6,Qg5,Nxh7,Qxd8+,Rxd8,Na4,Nf6,Nc5,b6,Ne6,Rc8,Rg6,Nd7,Rg7,Nc5,Nc7+,Kb8,b4,Rxc7,Rg8+,Rc8,Rxc8+,Kxc8,bxc5,bxc5,Kd2,Kd7,Ke2,c4,f3,exf3+,Kxf3,c5,c3,Ke6,Kf4,d4,exd4,cxd4,cxd4,a5,Ke4,c3', 'Kd3,c2,Kxc2', 'https://lichess.org/training/Lpp4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LpPOU', 'Classical', 'invachess90', 1933, 'perere00', 1939, 'e4,e5,d4,exd4,c3,d6,Bc4,Be6,Bxe6,fxe6,Qb3,Qc8,cxd4,Nf6,e5,Nd5,Nf3,Be7,Nc3,Nxc3,bxc3,O-O,Bg5,Bxg5,Nxg5,d5,Rb1,b6,c4,c6,O-O,h6,Nh3,Na6,f4,Qd7,cxd5,cxd5,Qb5,Qxb5,Rxb5,Nc7,Rb2,Rab8,g4,b5,f5,a6,Rc2,Rb7,Rc6,exf5,gxf5,b4,Rfc1,Nb5,Rc8,Nxd4,Rxf8+,Kxf8,Rd1,Nxf5,Rxd5,b3,axb3,Rxb3,Nf4,Ne3,Ra5,Rb5,Rxa6,Rxe5', 'Ng6+,Kf7,Nxe5+', 'https://lichess.org/training/LpPOU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lpq2Q', 'Blitz', 'elcandado', 2539, 'FM DJaeggi', 2562, 'd4,Nf6,Bf4,b6,e3,Bb7,Nf3,e6,Bd3,d5,Nbd2,Bd6,Bg3,O-O,Ne5,Nbd7,f4,c5,c3,cxd4,cxd4,Rc8,Qf3,Bb4,Bh4,Bxd2+,Kxd2,Nxe5,fxe5,Ne4+,Bxe4,dxe4,Qg3,Qd5,Bf6,Qa5+,Kd1,g6,Qg5,Qa4+', 'b3,Qc6,Qh6', 'https://lichess.org/training/lpq2Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lpq4j', 'Rapid', 'donotfearthereaper', 1601, 'TR01', 1648, 'Nc3,e5,e4,Nf6,Bc4,Bb4,d3,Nc6,Ne2,O-O,O-O,Be7,f4,d6,f5,a6,Rf3,b5,Bb3,Na5,Rh3,Nxb3,axb3,d5,Qe1,b4,Qh4,bxc3,Ng3,g6,bxc3,h5,Bg5,dxe4,Nxe4,Nxe4', 'Bxe7,Qxe7,Qxe7', 'https://lichess.org/training/Lpq4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LpRMY', 'Blitz', 'GM Feokl1995', 2756, 'GM pochtalionPechkin', 2506, 'd4,Nf6,c4,g6,g3,d5,Bg2,Bg7,Nf3,O-O,O-O,Nc6,c5,Bg4,Nc3,Ne4,Be3,Nxc3,bxc3,Qd7,Nd2,e5,Nb3,Rae8,Qd2,Bh3,Rfe1,Bxg2,Kxg2,Qe6,f3,exd4,Bxd4,Nxd4,cxd4,Qe3,Rad1,f5,Qc2,Re7,Rd3,Qe6,e3,f4,e4,fxg3,hxg3,dxe4,Rxe4,Qf7,Rde3,Rxe4,Qxe4,Qc4,f4,a5,d5,Qxe4+,Rxe4,Rd8,Nxa5,Rxd5,Nxb7,Rd2+,Kf3,Rxa2,Re7,Ra3+,Kg2,c6,Re6,Ra6,Nd8,Bd4,Re8+,Kg7,Re4,Ra2+,Kh3,Bg1,Re1,Bf2,Re7+,Kg8,Re8+,Kg7,Re6,h5,Rxc6,Bg1,Ne6+,Kh6,g4,Rh2+,Kg3,h4+,Kf3,Rf2+,Ke4,Re2+,Kd3,Re3+,Kd2,h3,Ng5,Rg3,Rc7', 'Be3+,Ke2,Bxf4', 'https://lichess.org/training/LpRMY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lPrW1', 'Classical', 'Buster1978', 1803, 'JardaHorny', 1845, 'd4,d5,c4,e6,Nc3,c5,e3,Nc6,cxd5,exd5,Nf3,Nf6,g3,Bf5,a3,a6,Bg2,cxd4,Nxd4,Bg6,O-O,Be7,b4,O-O,Bb2,Ne5,Nde2,Nd3,Ra2,Qd7,Nf4,Nxb2,Rxb2,Rac8,Nxg6,hxg6,Nxd5,Nxd5,Qxd5,Qa4,Qxb7,Bf6,Rbb1,Qxa3,b5,axb5,Qxb5,Rc2,Qb3,Qc5,Be4,Rc3,Qd5,Qxd5,Bxd5,Rd8,e4,Rc2,Rb7,Rf8,Kg2,Bd4,Rd7,Bf6,h3,g5,Rb1,Kh7,Rxf7,Rfc8,Rf1,Rd2,Ra7,Rcc2,Rf7,Kg6,Rf8,Bd4,Be6,Kh7,Rf5,Kh6,Rf8,Kh7,Kf3,Rxf2+,Rxf2', 'Rxf2+,Kg4,Rxf8', 'https://lichess.org/training/lPrW1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lPsVS', 'Rapid', 'pogrib', 1819, 'bankirskix', 1695, 'd4,e6,e4,Bb4+,c3,Ba5,b4,Bb6,c4,a6,Nc3,Ne7,Nf3,h6,Bd3,O-O,c5,Ba7,Be3,Nbc6,a3,Ng6,O-O,Nce7,Qc2,d6,h3,e5,d5,Re8,Ne2,b5,c6,Bxe3,fxe3,Rf8,a4,Rb8,axb5,axb5,Ra5,f5,Rfa1,fxe4,Bxe4,Bf5,Bxf5,Nxf5,e4,Nfh4,Nxh4,Nxh4,Ra7,Qf6,Ng3,Rf7,Rb7,Rbf8,Raa7,Qg5,Nf5,Nf3+,Kh1,Nd4,Qd1,Nxf5,exf5,Qxf5', 'Rxc7,Rxc7,Rxc7', 'https://lichess.org/training/lPsVS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LpTJj', 'Blitz', 'aleksm_17', 1858, 'adhvaita', 1890, 'd4,c5,dxc5,e6,b4,a5,bxa5,Qxa5+,Bd2,Qxc5,Nc3,Nf6,Nf3,Ra3,Nb1,Ra8,e3,Ne4,Bd3,Nxd2,Nbxd2,Be7,O-O,O-O,Ne4,Qc7,c4,b6,Qc2,Bb7,Ned2,g6,e4,Bf6,Rac1,d5,Rfe1,dxe4,Nxe4,Bg7,Qe2,Nd7,c5,bxc5,Bb5,Bxe4,Bxd7,Bxf3,Qxf3,Qxd7,Rxc5,Rxa2,g3,Rd8,Rec1,Bd4,Rc7,Qd5', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/LpTJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lPtLe', 'Rapid', 'Robbiouk', 1888, 'testaitalo', 1928, 'd4,d5,Bf4,e6,Nf3,Bd6,Bg3,Bxg3,hxg3,Nf6,c4,c6,Nc3,Nbd7,c5,b6,b4,bxc5,bxc5,Qa5,Qc2,Ne4,Rc1,Rb8,e3,Ndf6,Bd3,Nxc3,Qxc3,Qxc3+,Rxc3,Rb2,O-O,Rxa2,Ne5,Bd7,Rb1,O-O,Rb7,Rd8,Rcb3,h6,Rc7,Be8,Rbb7,a5,Nxf7,Bxf7,Rxf7,Ra1+,Kh2,h5,Rxg7+,Kh8,Rgf7', 'Ng4+,Kh3,Rh1#', 'https://lichess.org/training/lPtLe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lpuKp', 'Blitz', 'Anatolianrockkk', 1704, 'dorukovic', 1813, 'e4,c5,Nf3,Nc6,d4,cxd4,Bd3,d6,c3,dxc3,Nxc3,g6,Be3,Bg7,Qd2,Nf6,a3,Bg4,h3,Bxf3,gxf3,Ne5,Qe2,Nxd3+,Qxd3,a6,Bg5,O-O,h4,h5,f4,Ng4,f5,Qb6,Be3,Nxe3,fxe3,Rac8,O-O,Bxc3,bxc3,Qc5,f6,exf6,Rac1,b5,Rxf6,Qe5,Rf2,Qg3+,Rg2,Qxh4,Rf1,Rfe8,Rf4,Qe1+,Rf1,Qxc3,Qd5,Qxe3+,Kh1,Qh3+,Kg1,Qe6,Qxh5,Qxe4,Qh3,Qe6,Qh4,Qe3+,Kh1,Rc3,Rh2,Qe5', 'Qh7+,Kf8,Rxf7#', 'https://lichess.org/training/lpuKp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LPumx', 'Classical', 'Micheleparley', 1677, 'Hermansax', 1720, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Nc6,Nf3,a6,Bxc6+,bxc6,O-O,Nf6,d4,Bf5,c3,e6,a3,Bd6,Bg5,O-O,Bxf6,Qxf6,Nbd2,c5,dxc5,Bxc5,b4,Bb6,c4,dxc4,Nxc4,Ba7,Nd6,Rfd8,Ra2,Qe7,Rd2,Bg4,Qc2,Bxf3,gxf3,Qf6,Qe4', 'Qg5+,Qg4,Qxd2', 'https://lichess.org/training/LPumx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LPx0X', 'Classical', 'Mistaker69', 1849, 'ghulammundrani', 1862, 'e4,e5,f4,d6,Nf3,Bg4,Be2,Qf6,O-O,Bxf3,Rxf3,Ne7,Nc3,c6,fxe5,Qxe5,b3,Ng6,Rf5,Qc5+,Kh1,Qd4,Bb2,Ne5,Na4,Qxe4,Rf2,Be7,Nc3,Qg6,d4,Ned7,Bh5,Qg5,Bxf7+,Kd8,Bc1,Qh4,Rf4,Qg5,Ne4,Qb5,c4,Qb6,Qg4,Qxd4,Rb1,Qd3,Nd2,Ne5,Qxg7,Rf8,Bb2,Qxd2,Bxe5,dxe5,Qxe5,Nd7,Rd4,Qxd4,Qxd4,Rxf7,Rd1,Bc5,Qxc5,Kc7,Qd6+,Kb6,Qd4+,Ka6,Qb2,Raf8,Qa3+,Kb6,c5+,Nxc5,Qb4+,Kc7,h3,b6,Qd4,Kb7,b4,Na4,b5,cxb5,Qd5+,Ka6,Rb1', 'Nc3,Qb3,Nxb1', 'https://lichess.org/training/LPx0X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LpXfm', 'Blitz', 'HuntersHealthyHog', 1636, 'Dokeer', 1621, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bb5,dxe4,Nxe5,Bd7,Nxd7,Qxd7,d3,O-O-O,d4,a6,Bxc6,Qxc6,O-O,Bc5', 'Qg4+,Qd7,Qxd7+,Rxd7,dxc5', 'https://lichess.org/training/LpXfm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lPXh7', 'Rapid', 'Fefe-4', 1601, 'Gambito-Leproso', 2006, 'e4,c5,Nf3,d6,Nc3,e6,Bb5+,Bd7,Bxd7+,Qxd7,d3,Nc6,Bg5,h6,Bh4,Be7,Bxe7,Ngxe7,O-O,O-O-O,h3,g5,d4,cxd4,Nxd4,Kb8,Nxc6+,Nxc6,Re1,h5,Nb5,a6,Nc3,Ne5,Qd3,g4,Qe3,Nc4,Qg3,Rdg8,Red1,Ne5', 'Qxe5,dxe5,Rxd7', 'https://lichess.org/training/lPXh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lpy1T', 'Classical', 'LYLRY', 1655, 'all_abd', 1661, 'Nf3,c6,g3,d5,Bg2,h6,b3,f6,Bb2,e5,O-O,e4,Nd4,c5,Nb5,a6,N5c3,f5,e3,Nf6,d3,Be6,dxe4,fxe4,Re1,Be7,f3,O-O,fxe4,d4,exd4,Bg4,Bf3,Bxf3,Qxf3,Qxd4+,Kh1,Qd7,Rd1,Qc6,Nd2,Nbd7,Qd3,Ne5,Qe2,Nfg4,Rf1,Rxf1+,Rxf1,Bf6,Nd5,Re8,Bxe5,Nxe5,Nxf6+,gxf6,Nf3,Ng6,Qc4+,Kg7,Re1,f5,Qc3+,Kh7,exf5', 'Rxe1+,Qxe1,Qxf3+,Kg1,Qxf5', 'https://lichess.org/training/lpy1T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lpygO', 'Rapid', 'Szabi', 1748, 'p_munandar_p', 1801, 'e4,d6,d4,b6,c3,Bb7,Bd3,Nf6,f3,Nbd7,Ne2,e5,O-O,Be7,Be3,O-O,Nd2,a5,Qc2,c5,Rad1,cxd4,cxd4,Rc8,Qb1,exd4,Bxd4,d5,exd5,Bxd5,Ne4,Nxe4,fxe4,Bb7,e5,Bc5,Bxh7+,Kh8,e6,Qg5,Ng3,Nf6,Bxc5,Qxc5+,Kh1,Nxh7,exf7,Ng5,Rf5,Qc6,Rg1,Qh6,Qe1,Rc2,Qe8,Ne6', 'Rh5,Qxh5,Nxh5', 'https://lichess.org/training/lpygO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LPZmw', 'Rapid', 'Majeed002211', 1876, 'sacas1992', 1842, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,d6,Bc4,Be6,Qe2,Be7,O-O,Nf6,Bg5,O-O,Nc3,h6,Bh4,a6,Rad1,b5,Bxe6,fxe6,e5,Nh7,Bxe7,Qxe7,exd6,Qf6,d7,Rad8,Ne4,Qxb2,Nxc5,Qxa2,Nb7,Nf6,Nxd8,Rxd8,Rfe1,Kh8,Ra1,Qd5,Red1,Qc6,h3,Nxd7,Qg4,Rf8,Qd4,Nf6,Qe5,Ne4,f3,Qb6+,Kh2,Ng5,Rd7,Rf6,Rad1,Qf2,Qg3', 'Nxf3+,Qxf3,Rxf3', 'https://lichess.org/training/LPZmw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQ0BM', 'Rapid', 'Xilften1', 2037, 'dorhinj1', 2005, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bg5,O-O,Qd2,e5,dxe5,dxe5,O-O-O,Qxd2+,Rxd2,Nc6,Bxf6,Bxf6,Nd5,Bg5,f4,exf4,Nf3,Bh6,Bd3,Be6,h4,a5,Nxc7,Rac8,Nxe6,fxe6,e5,Nb4,Be4', 'Rxc4+,Kb1,Rxe4', 'https://lichess.org/training/LQ0BM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lq0sk', 'Rapid', 'Petarstrov', 1627, 'chwilliams1', 1608, 'd4,d5,c4,Nf6,Nf3,Nc6,Nc3,Bg4,Bg5,Ne4,Nxe4,Bxf3,exf3,dxe4,fxe4,Qxd4,Bd3,Ne5,Be2,Qxe4,O-O,Nxc4,Qa4+,c6,Qxc4,Qxc4,Bxc4,Rd8,Rad1,Rxd1,Rxd1,b5,Be2,f6,Bf4,e5,Be3,a6,a3,Be7,b4,O-O,Rd7,Bd8,Ra7,h6,Rxa6,Rf7,Rxc6,Bc7,Bxb5,Kh7,Bd3+,f5,Bb6,Bxb6,Rxb6,e4,Be2,Ra7,b5,Rxa3,Rb8,f4,f3,e3,g4,fxg3,hxg3,Ra1+,Kg2,Ra2,Kf1,Ra1+,Kg2,Ra2,Kf1,Ra1+,Bd1,Rxd1+,Ke2,Rg1,Kxe3,Rxg3,b6,Rg5,Kd4,Rb5,Kc4,Rb1,b7,h5,Kc5,h4,Kc6', 'h3,Rd8,h2,b8=R,Rxb8,Rxb8,h1=Q', 'https://lichess.org/training/lq0sk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQ0Ud', 'Rapid', 'trick123', 1784, 'SharadMate', 1722, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,Nf3,Bf5,Bd3,Bxd3,Qxd3,Nf6,Bg5,Be7,O-O,O-O,Rfe1,Nbd7,h3,Re8,a3,Qc7,Re2,Bd6,Rae1,Rxe2,Rxe2,Re8,Bxf6,Nxf6,Rxe8+,Nxe8,Ng5,Nf6,Ne2,h6,Nf3,Qe7,Nc3,Ne4,Nd1,Ng5,Nxg5', 'Qe1+,Qf1,Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/lQ0Ud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lq2jh', 'Classical', 'shourabhiaf', 2236, 'princeajay', 1790, 'd4,Nf6,c4,e6,Nf3,c6,Nc3,d5,c5,Be7,e3,b6,b4,b5,Bd3,a5,bxa5,Rxa5,Bd2,Ra3,Qc2,Na6,Nb1,Ra4,Ne5,Bb7,Qb2,Nc7,Nc3,Ra8,a4,O-O,axb5,cxb5,Rxa8,Qxa8,Ke2,Bc6,Ra1,Qb7,Ra7,Qxa7,Nxc6,Qb7,Nxe7+,Kh8,c6,Qb8,Nxb5,Re8,Nd6,Qxb2', 'Nxf7#', 'https://lichess.org/training/lq2jh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lq2XN', 'Blitz', 'Cristian70', 1934, 'olezhek', 1800, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Qb3,dxc4,Qxc4,O-O,e4,c6,Be2,Nbd7,Bf4,Nb6,Qd3,Nh5,Be3,Nf6,h3,e6,O-O,c5,d5,exd5,exd5,Nbxd5,Bxc5,Nxc3,bxc3,Qc7,Bxf8,Kxf8,Rfd1,Bf5,Qd6+,Qxd6,Rxd6,Ne4,Rd3,Nxc3,Bf1,Ne2+,Bxe2,Bxa1,Rd1,Bg7,Nd4,Bxd4,Rxd4,Ke7,Bf3,Rb8,Rb4,b6,a4,Rc8,a5,bxa5,Rb7+,Kf6,Rxa7,Rc5,g4,Be6,Ra6,Kg5,Kg2,Kf4,Ra7,Rc3,Ba8,Ra3,Bc6,Ra1,Ra6,Bc4,Ra7,Bf1+,Kh2,Ra2,Rxf7+,Kg5,Kg3,Ra3+,Bf3,h5', 'h4+,Kh6,g5#', 'https://lichess.org/training/Lq2XN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lq38v', 'Classical', 'obedmbedzi', 1993, 'sherifosman111', 1996, 'e4,e6,d4,d5,e5,c5,c3,Qb6,a4,a5,Nf3,Bd7,Na3,cxd4,Nxd4,Nc6,Nxc6,Bxc6,Nb5,f6,Be3,Qd8,Bd4,f5,Be2,g6,O-O,Nh6,h3,Nf7,Nd6+,Nxd6,exd6,Rg8,Be5,Bxd6,Qd4,Qc7,Bxd6,Qxd6,c4,e5,Qd2,d4,Qh6,Qe7,c5,O-O-O,Bc4,Bd5,Bxd5,Rxd5,c6,bxc6,Qd2,Qa7,b4,e4,bxa5,Qxa5,Qa2,Rgd8,Rfc1,c5,Rab1,d3,Qb3,Qa7,Qb5,d2,Qc6+,Qc7,Qe6+,R8d7,Rd1,Qd6,Qe8+,Rd8,Qb5,Qc7', 'Qa6+,Kd7,Rb7', 'https://lichess.org/training/lq38v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lq4Dm', 'Rapid', 'MansurBokayv', 1990, 'Budfy', 1966, 'd4,f5,Bg5,Nf6,Bxf6,exf6,e3,d5,Qh5+,g6,Qd1,Bd6,Nf3,Be6,Nc3,Nd7,Bb5,Qe7,a3,O-O-O,Rc1,g5,h3,h5,Nd2,g4,hxg4,hxg4,Rf1,f4,e4,dxe4,Ndxe4,f5,Nxd6+,cxd6,Qe2,f3,gxf3,gxf3,Qe3,Nb6', 'd5,Nxd5,Nxd5', 'https://lichess.org/training/Lq4Dm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lq67k', 'Rapid', 'redwhite81', 1654, 'jaberasadollahi', 1648, 'e4,e5,Nf3,Qf6,c4,Nc6,Nc3,Nge7,d3,Nd4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/lq67k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQ7hW', 'Blitz', 'ramstein', 1740, 'Guydoune', 1744, 'e4,d6,d4,e6,c4,Nd7,f4,c6,Nf3,Qc7,Bd3,h6,O-O,e5,f5,Ngf6,Nc3,Be7,d5,c5,Nb5,Qb6,a4,a6,a5,Qd8,Nc3,b6,axb6,Nxb6,Kh1,O-O,Be3,Bd7,Qd2,Kh7,h3,Nh5,Kh2,Bh4,Ne2,Be7,g4,Nf6,g5,hxg5,Nxg5+,Kg8,Rg1,Nh7,Nxh7,Kxh7,Rxg7+,Kxg7,Rg1+,Kh7,Bg5,Bxg5,Rxg5,Rh8,Ng3,Rg8', 'Rh5+,Kg7,Qh6#', 'https://lichess.org/training/lQ7hW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lqa2y', 'Rapid', 'Dpopov', 1873, 'Juus0', 1843, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,Bg4,h3,Bd7,O-O,g6,d4,cxd4,Nxd4,Bg7,Be3,O-O,Qd2,Nc6,Nxc6,Bxc6,f3,e6,Bh6,d5,exd5,exd5,Bb3,Qd7,Rad1,Rad8,Bg5,Qd6,Bxf6,Bxf6,Bxd5,Bxc3,Bxf7+,Rxf7,Qxd6,Rxd6,Rxd6,Bxb2,Rfd1,Ba3,Rd8+,Kg7,R1d3,Bc5+,Kh2,Bb6,Ra8,Re7,Rd2,Rd7,Re2,Rf7,Rc8,Bb5,Rd2,Be3,Rd5,Bc6,Rd3,Bb6,Rd2,Bc7+,Kg1,Bf4,Rd3,Bg3,Rdd8,Re7,Rd1,Re2,Rc1,Kf6,Kf1,Bb5,c4,Rf2+,Kg1,Bc6,a3,Ke5,Rd8,Ra2,f4+,Kxf4,Rf8+,Ke3', 'Rc3+,Kd4,Rxg3', 'https://lichess.org/training/Lqa2y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqAFV', 'Rapid', 'evysezosu', 2011, 'Gladyx', 2045, 'd4,d5,Nc3,Nf6,Bf4,a6,e3,Bf5,f3,e6,g4,Bg6,h4,h6,Bd3,Bxd3,Qxd3,c5,Nge2,Nc6,Ng3,cxd4,exd4,Bd6,Qe3,Bxf4,Qxf4,Qb8,Qxb8+,Rxb8,O-O-O,g6,g5,hxg5,hxg5,Nh5,Nce2,Ke7,Nxh5,Rxh5,Rxh5,gxh5,f4,f6,Rh1,Rh8,c3,Kf7,Kd2,b5,Ke3,b4,Kf3,bxc3,bxc3,Kg6,gxf6,Kxf6,Rg1,Rb8,Rg5,Rb2,Rxh5,Rxa2,Rh6+,Ke7,f5,Nd8,Nf4,exf5,Nxd5+,Kd7,Kf4,Rf2+,Ke5', 'Nf7+,Kf6,Nxh6', 'https://lichess.org/training/LqAFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQALz', 'Classical', 'TheyFearHisHorses', 1949, 'Marc2018', 1767, 'e4,Nc6,Nf3,d6,d4,Nf6,d5,Nb8,Bd3,g6,Nc3,Bg7,O-O,O-O,Bg5,c6,h3,cxd5,exd5,Qa5,Bc4,a6,Re1,Re8,Qd2,b5,Bxf6,Bxf6,Ne4,Qxd2,Nxf6+,exf6', 'Rxe8+,Kg7,Nxd2', 'https://lichess.org/training/LQALz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lqBXe', 'Classical', 'joeby', 1720, 'Duscian', 1791, 'd4,Nf6,Nc3,e6,e4,Bb4,e5,Nd5,Bd2,Nc6,f4,Nxd4,Nxd5,Bxd2+,Qxd2,Nf5,Bd3,Qh4+,g3,Nxg3,Nxc7+,Kd8,Nxa8', 'Ne4+,Kd1,Nxd2', 'https://lichess.org/training/lqBXe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQBzS', 'Bullet', 'WFM Krestik', 2461, 'Arley-Restrepo', 2360, 'Nc3,Nf6,e4,d5,exd5,Nxd5,Nf3,c5,Bb5+,Bd7,Bc4,Nb6,Bxf7+,Kxf7,Ne5+,Kg8,Qf3,Be6,Qxb7,N8d7,Nc6,Qc8,Qxc8,Rxc8,Na5,g6,d3,Bg7,Bd2,Kf7,O-O,Rhd8,Ne4,Nf6', 'Ng5+,Kg8,Nxe6', 'https://lichess.org/training/lQBzS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqCde', 'Classical', 'nishknyaev', 1700, 'Artem4822', 1677, 'e4,e6,Nc3,d5,e5,c5,d4,Qb6,Nf3,Nc6,Na4,Qa5+,Nc3,Nge7,Bd2,Nf5,Nxd5,Qd8,Nf4,Nfxd4,Nxd4,Qxd4,c3,Qxe5+,Qe2,Bd6,Qxe5,Bxe5,Bb5,Bd7,O-O-O,a6,Bxc6,Bxc6,Nh5,g6,Ng3,Bxg3,hxg3,Bxg2,Rhg1,Bf3,Rde1,O-O,Re3,Bc6,Re5,b6,Bh6,Rfd8,Bg5,Rd5,f4,Kg7,Rd1,Rxe5,fxe5,h6,Bf6+,Kh7,g4,g5,Rd6,Rc8,Kd2,Kg6,Ke3,h5,Kf2,hxg4,Kg3,Kf5,b3,b5,a3,a5,c4,bxc4,bxc4,Ba4,Ra6,Bb3,Rxa5,Bxc4,Ra7,Be2,Rxf7,Kg6,Re7,Rc6,Rg7+,Kf5,Rxg5+,Ke4,Rg6,c4,Rh6,c3,Rh1,c2,Rc1,Kd3,Bg5,Kc3,Kf2,Bf3,Ke1,Kb2,Kd2,g3,Be3,g2,a4,Rc3', 'Bd4,Kb3,Bxc3', 'https://lichess.org/training/LqCde');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQcKW', 'Blitz', 'NM aquiles88', 2256, 'eliasib', 2230, 'g3,d5,Bg2,c6,Nf3,e6,O-O,f5,d3,Bc5,Nbd2,Nf6,e4,fxe4,dxe4,O-O,Qe2,h6,b3,Nbd7,Bb2,Nh7,c4,Ndf6,Rfd1,Qb6,Rf1,Bd7,h3,Rae8,Rad1,Bc8,a3,a5,Qd3,Rd8,exd5,exd5,cxd5,Nxd5,Nc4,Qa7,Qg6,Ndf6,Nfe5,Rxd1,Rxd1,Bxf2+,Kh2,Be6,Ng4,Bxc4,bxc4,b5,Bxc6,Bc5,cxb5,Qe7,Qd3', 'Nxg4+,hxg4,Rf2+,Bg2,Rxb2', 'https://lichess.org/training/LQcKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqDlY', 'Rapid', 'deb1', 1703, 'Mr-NO-body', 1703, 'c4,Nf6,Nc3,g6,d4,Bg7,f3,d6,e4,O-O,Be3,e5,d5,c6,Qd2,Re8,Bh6,cxd5,cxd5,Qb6,Bxg7,Kxg7,O-O-O,Na6,Bxa6,bxa6,g4,Bd7,h4,Rab8,h5,Rh8,Nge2,g5,Qxg5+,Kf8,Rd2,Ke7,Ng3,Rhg8,Qh4,Rgc8,Ne2,a5,g5,Ne8,g6+,Nf6,gxf7,Kxf7,h6,Rg8,Rg1', 'Rxg1+,Nxg1,Qxg1+', 'https://lichess.org/training/LqDlY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqEbv', 'Blitz', 'tender80', 2051, 'LaLarme', 2185, 'c4,c5,Nc3,Nc6,e4,g6,g3,Bg7,Bg2,e5,d3,Nge7,Nge2,d6,O-O,O-O,h3,Nd4,f4,f5,a3,Be6,Kh2,fxe4,Nxe4,h6,Rb1,a5,b4,axb4,axb4,b6,bxc5,dxc5,fxe5,Bxe5,Nf4,Bf5,Nc3,Ra7,Ncd5,Nxd5,Nxd5,h5,Rxb6,h4,Rxf5,Bxg3+,Kg1,Rxf5,Rxg6+,Rg7,Qg4,Qf8,Bh6,Rf1+,Bxf1', 'Qf2+,Kh1,Qxf1#', 'https://lichess.org/training/LqEbv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqENB', 'Blitz', 'chiri21', 2270, 'Sensei24', 2307, 'd4,g6,e4,Bg7,Nc3,c6,f4,d5,e5,h5,Nf3,Nh6,h3,Bf5,a4,e6,Bd3,Bf8,Be2,h4,Be3,Be7,O-O,Kf8,a5,Kg7,Re1,Nd7,Bf2,b6,axb6,Nxb6,Bf1,Nd7,Qd2,c5,b3,cxd4,Nxd4,Bb4,Nc6,Qf8,Nxb4,Qxb4,Ra4,Qb7,Rea1,a6,Rxa6,Rxa6,Rxa6,Qc7,Ra7,Qc8,Nb5,Nc5,Bxh4,Ne4,Qd4,Rf8,Nd6,Qxc2,Qb4,Qd1,Nxe4,Bxe4,Qxf8+,Kxf8', 'Ra8+,Kg7,Bf6+,Kh7,Rh8#', 'https://lichess.org/training/LqENB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQEwo', 'Rapid', 'Berggeist', 1978, 'Carrarmato143', 1680, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,c6,Bc4,Bg7,O-O,O-O,Re1,d5,exd5,Nxd5,Nxd5,cxd5,Bd3,Nc6,c3,Bg4,h3,Bxf3,Qxf3,e5,dxe5,Nxe5,Qd1,Nxd3,Qxd3,Re8,Rd1,Re5,c4,Qe7,cxd5,Re1+,Kh2,Qe5+,g3,Rxd1,Qxd1,Re8,Bf4', 'Qxb2,Rc1,Qxf2+', 'https://lichess.org/training/LQEwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqfzP', 'Classical', 'AfshinK', 1648, 'failedd', 1683, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,Nxe4,Re1,d5,d4,exd4,cxd4,Bxd4,Nxd4,O-O,Nxc6,bxc6,Bb3,Qf6,Nd2,Nxf2,Qf3,Qxf3,Nxf3,Nd3,Re7,Be6,Rxc7,Rac8,Rxa7,Bg4,Nd4,Rfe8,Bd2,Nxb2,Rc1,c5,Nf3,c4,Bc2,Bxf3,gxf3,d4,Rb7,c3,Be1,d3,Ba4,d2,Bxd2,cxd2', 'Rxc8,Rxc8,Rxb2', 'https://lichess.org/training/LqfzP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQGtf', 'Blitz', 'MaryCrawl', 2023, 'rodr0407', 2005, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bg5,Qe7,Bd3,Qb4+,Nd2,Qxb2,O-O,Be7,Nc4,Qc3,e5,Nd5,Bxe7,Nxe7,Qf3,Qd4,Rad1,Qh4,c3,O-O,Ne3,Ng6,Nf5,Qg5,Rfe1,a5,Qe2,Nf4,Qe4,d5', 'Ne7+,Kh8,Qxh7#', 'https://lichess.org/training/LQGtf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQhag', 'Classical', 'Kaleb_Adyub', 1852, 'edwardsme96', 1721, 'Nf3,Nf6,g3,e6,c4,b6,Bg2,Bb7,b3,d6,O-O,Nbd7,Bb2,g6,Re1,Bg7,d3,O-O,Nbd2,e5,d4,Re8,dxe5,Nxe5,Qc2,Nfg4', 'Nxe5,Ne3,fxe3', 'https://lichess.org/training/lQhag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQHcx', 'Rapid', 'Macho_Alfa', 1726, 'S_mankar', 1806, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nf3,d6,Bd3,Bg4,O-O,Qf6,Be2,Nd4', 'Nxd4,Bxd4,Bxg4', 'https://lichess.org/training/LQHcx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQHIq', 'Rapid', 'mekanick', 2017, 'samanthafox', 2074, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Ng3,e6,Bd3,c5,O-O,cxd4,Nxd4,Bc5,Nb3,Bb6,Bf4,O-O,Re1,Nc5,Nxc5,Bxc5,h3,Qb6,Qf3,Bd7,Be5,Bc6,Qf4,Nd5,Qg4,f6,Nh5,Bxf2+,Kh1,g5,Nxf6+,Rxf6,Bxf6,Nxf6,Qxe6+,Kg7,Qe7+,Kg8,Qxf6', 'Bxg2+,Kxg2,Qxf6', 'https://lichess.org/training/LQHIq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQhWd', 'Blitz', 'GM Elda64', 2670, 'Sami03', 2508, 'd4,Nf6,Nf3,e6,Bg5,c5,Nc3,h6,Bxf6,Qxf6,d5,c4,e4,Bb4,e5,Qf4,dxe6,dxe6,Be2,O-O,O-O,Bxc3,bxc3,Nc6,g3,Qe4,Re1,Nxe5,Nxe5,Qxe5,Bxc4,Qc7,Bd3,Bd7,Rb1,Bc6,Qh5,Rad8,Re3,Rfe8,Rbe1,b6,c4,Bb7,h4,Qc6,Be4,Qd7,Bxb7,Qxb7,Qg4,Qc7,Rd3,Qc5,Red1,Rc8,Rd4,Qa3,Rd7,Qxa2,R1d4,Qb1+,Kg2,Qxc2,Rf4,Rf8,Qf3,Qg6,h5,Qg5,Rfxf7,Rxf7,Rxf7,a5,Rb7,a4,Rxb6,a3,Ra6,Rxc4', 'Ra8+,Kh7,Qd3+', 'https://lichess.org/training/lQhWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqilK', 'Classical', 'MrAmazon', 2089, 'kroky32', 1873, 'd4,e6,Nf3,d5,c4,c5,cxd5,exd5,dxc5,Bxc5,e3,Nc6,Nd4,Nxd4,exd4,Bb4+,Bd2,Qe7+,Be2,Nf6', 'Qa4+,Bd7,Qxb4,Qxb4,Bxb4', 'https://lichess.org/training/LqilK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQj1R', 'Rapid', 'Omega76', 1833, 'PetrR', 1835, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,O-O,O-O,Na5,Bb5,c6,Ba4,b5,Bc2,Nb7,Nxe5,Re8,d4,Bb6,Bb3,d5,exd5,cxd5,Qf3,Be6,Bg5,Na5,Bc2,Nc4,Qd3,Nxb2,Qxb5,Nc4,Nxc4,dxc4,Nd2,a6,Qb4,Rb8,Qa4,Bd7,Qxa6,Re6,Qxc4,Bc7,Rab1,Bc6,Rxb8,Bxb8,Bxf6,Rxf6,Qd3,Rh6,g3,Rxh2,Kxh2', 'Qh4+,Kg1,Qh1#', 'https://lichess.org/training/LQj1R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQJc7', 'Rapid', 'kareemabdlrazik77', 1835, 'Abdo1999', 1772, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,Qc2,c5,a3,cxd4,axb4,dxc3,Bxc3,b5,c5,a5,e3,Nd5,Bxb5,Bb7,bxa5', 'Nxc3,Qxc3,Bxg2,Ne2,Bxh1', 'https://lichess.org/training/LQJc7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQjYV', 'Classical', 'Al-Nasriyah', 1768, 'couillu', 1786, 'e4,e5,Nf3,d6,Bc4,Qf6,d3,h6,Nc3,c6,O-O,Be7,d4,exd4,Nxd4,Qg6,Re1,Bh3,g3,Bg4,Be2,Bxe2,Qxe2,h5,e5,dxe5,Qxe5,Nd7,Qe2,h4,Qf3,hxg3,fxg3,O-O-O,Nf5,Bc5+,Kg2,Ngf6,Be3,Bxe3', 'Ne7+,Kb8,Nxg6', 'https://lichess.org/training/lQjYV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQKHl', 'Rapid', 'ivanphilipov', 2011, 'vadimalekperov', 2031, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,Bb5+,c6,dxc6,Nxc6,Qe2+,Be6,d4,Bd6,Nc3,O-O,O-O,Bg4,Qf2,Bxf3,Qxf3,Nxd4,Qxb7,Rb8,Qa6,Nxb5,Nxb5,Bc5+,Kh1,Ne4,Bxf4,Rb6,Qa4,Nf2+,Kg1,Nd3+,Kh1,Nxb2,Qb3,a6,Qxb2,Rxb5,Qc3', 'Bd4,Qg3,Bxa1', 'https://lichess.org/training/LQKHl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqKPa', 'Blitz', 'stuntmancb', 1574, 'Ralphd21', 1574, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Bf5,e3,Nbd7,cxd5,Nxd5,Nxd5,cxd5,Bb5,a6,Be2,Nf6,Bxf6,exf6,Nf3,Be7,O-O,O-O,Rc1,Be4,a3,Bd6,Bd3,f5,Bxe4,fxe4,Ne5,Bxe5,dxe5,Qg5,Qd4,Rad8,Rc7,b5,Rc5,f6,Rxd5,fxe5,Rxe5,Qf6,Qxe4', 'Qxf2+,Rxf2,Rd1+,Rf1,Rfxf1#', 'https://lichess.org/training/LqKPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqMhq', 'Blitz', 'CM Kingscrusher-YouTube', 2370, 'IcelordBg', 2462, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,Bc4,Bg4,h3,Bh5,g4,Bg6,Ne5,e6,h4,Be4,Rg1,Bd5,Bd3,Nbd7,g5,Nxe5,dxe5,Nd7,Bf4,Bb4,Qd2,Nb6,a3,O-O-O,Ke2,Bxc3,Qxc3,Qxc3,bxc3,Na4,Bd2,b5,h5,g6,h6,Kc7,Rg4,a6,c4,bxc4,Bxc4,Nc5,Ba5+,Kd7,Bxd8,Rxd8,Bxd5,exd5,Rb1,Ke6,Rb6,Rc8,f4,Kf5,Kf3,Ne6,Rh4,Nd4+,Kg3,Nxc2,Rxa6,d4,Rh2,Ne3,Kf3,Nd5,Rd2,c5,Re2,d3,Rd2,c4,Rd6,Rc5,a4', 'c3,Rxd3,c2', 'https://lichess.org/training/LqMhq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQO0W', 'Blitz', 'gagik_xachatryan', 1846, 'ArtMarkosyan2008', 1917, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Be2,d5,exd5,Nxd5,Nxc6,bxc6,Nxd5,cxd5,Bd4,e5,Bc5,Qa5+,b4,Qd8,O-O,a5,c3,axb4,cxb4,d4,Qb3,Be6,Bb5+,Bd7,Bc4,Qf6,Rfe1,Bf8,Bxd4,Bd6,Qe3,O-O,Bxe5,Bxe5,Qxe5,Qb6,Red1,Qxb4,Rxd7,Qxc4,Rad1,Rxa2,h3,Qe6,Qc3,Qe2,Rd8', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/lQO0W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqPdA', 'Rapid', 'Thesin3399', 1753, 'A4wins', 1787, 'e4,b6,Nf3,Bb7,Nc3,Nc6,d4,e6,d5,exd5,exd5,Nce7,Bf4,d6,Bb5+,c6,dxc6,Nxc6,Qd5,Qd7,Qe4+,Be7,O-O-O,O-O-O,Qa4,a5,Rhe1,Nf6,Bg5,h5,Nd5,Nxd5,Rxd5,Bxg5+,Nxg5,Qc7,Red1,Na7,R5d3,Nxb5,Qxb5,Kb8,h4,Bxg2,Rc3,Qb7,f3,d5,Rg1,Rhe8,Rxg2,d4,Rc6,d3,Rxb6', 'd2+,Rxd2,Re1+,Rd1,Rdxd1#', 'https://lichess.org/training/LqPdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqqKy', 'Classical', 'MarioPupiales2', 1983, 'Brap69', 2076, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Bb3,Be7,O-O,O-O,Re1,Nf6,d4,Nc6,Bg5,Bg4,Nbd2,Nxd4,c3,Nxb3,axb3,h6,Bh4,Ne4,Bxe7,Qxe7,h3,Bxf3,Nxf3,Qc5,Nd4,Nf6,Qf3,Rae8,b4,Qb6,Rab1,Ne4,Qe2,Qg6,f3,Nd6,Qd2,Nc4,Qf4,Rxe1+,Rxe1,Nxb2,Qxc7,Nd3,Re2,Qa6,Qe7,Qa1+,Kh2,Qxc3,Qe3,Rc8', 'Rc2,Qxc2,Nxc2', 'https://lichess.org/training/LqqKy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqqZc', 'Rapid', 'W8ing4TheSun', 1926, 'Tactica', 1898, 'e4,c5,Bc4,d6,Nf3,Nf6,Nc3,g6,Ng5,e6,Qf3,Nc6,Bb5,Bg7,e5,dxe5,Bxc6+,bxc6,Qxc6+,Bd7,Qxc5,h6,Nge4,Nxe4,Nxe4,Qe7,Nd6+,Kf8,b3,Rc8,Qb4,Kg8,Ba3,Rxc2,Qe4,Rc7,Nb5,Qd8,Nxc7,Qxc7,Rc1,Qa5,Qa8+', 'Kh7,Qb7,Qxa3', 'https://lichess.org/training/LqqZc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQRb0', 'Rapid', 'nikhilnam100', 1881, 'ANthenriQue', 1817, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bg5,Be7,h4,h6,Bf4,c5,c3,cxd4,cxd4,Nc6,Bb5,Bxb1,Rxb1', 'Qa5+,Kf1,Qxb5+', 'https://lichess.org/training/LQRb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lqrkv', 'Rapid', 'Abdihas', 1922, 'piti007', 1885, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c3,Bg7,Be3,Nf6,Bd3,O-O,Nd2,d5,Bb5,Nxd4,Bxd4,dxe4,Bxf6,Bxf6,Nxe4,Qxd1+,Rxd1,Bg7,O-O,Bf5,Ng3,Be6,a3,Rfd8,Ne4,Rd5,Rxd5,Bxd5,Nc5,b6,Nd3,Bb3,Nf4,Rd8,h3,Rd2,Re1,e5,Nd3,f6,f3,Bh6,Kf1,Bg5,Re2,Rxe2,Kxe2,Kf7,g3,Ke6,Nb4,Bc1,Nd3,Bh6,Nb4,Kd6,Nd3,Kd5,Be8,Bc4', 'Bf7+,Kc6,Bxc4', 'https://lichess.org/training/lqrkv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqrOm', 'Rapid', 'lazyboy84', 1726, 'wijk008', 1726, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,h6,Bh4,O-O,O-O-O,Nc6,Nxc6,bxc6,e5,Nd5,Bxe7,Qxe7,exd6,Qxd6,f5,exf5,Nxd5,cxd5,Rxd5,Qb6,b3,Bb7,Qxf5,Bxd5,Qxd5,Rad8,Qf3,a5,Bc4,Qc7,g3,Qe7,h4,Kh8,g4,f6,Qg3,Qe5,Qxe5,fxe5,g5,h5,Re1,Rde8,Bd3,Rf4,Bg6,Re7,Bxh5,Rxh4,Bf3,Rf4', 'Rh1+,Kg8,Bd5+', 'https://lichess.org/training/LqrOm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQSnY', 'Blitz', 'csarge', 1880, 'alexpav77', 1849, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bf4,O-O,h3,a6,Be2,b5,a3,c5,Nf3,Bb7,Nd5,Nxd5,exd5,Bc8,O-O,Bf6,Rb1,Bf5,Re1,Nd7,b4,c4,Nd4,Bg6,Bxd6,Ne5,Bxe5,Bxe5,Bf3,Bc7,d6,Qxd6,Bxa8,Qh2+,Kf1,Rxa8,Nf3,Qh1+,Ng1,Bh2,Ke2,Qxg2,Kd2,Qxf2+,Kc3,Qf6+,Qd4,Qf5,Re2,Bc7,Kb2,Rd8', 'Qxd8+,Bxd8,Re8#', 'https://lichess.org/training/lQSnY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQSrp', 'Rapid', 'Eoin_G', 1868, 'redpawn17', 1817, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Bd3,Nbd7,Be3,O-O,Qd2,b6,O-O-O,c5,d5,a6,Nf3,b5,f5,Ng4,Bf4,Bxc3,Qxc3,Nf2,Bh6,f6,Bxf8,Nxh1,Bxe7,Qxe7,Rxh1,gxf5,g4,fxe4,Re1,Ne5,Bxe4,Bxg4,Rg1,Kh8', 'Nxe5,fxe5,Rxg4', 'https://lichess.org/training/lQSrp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQsVI', 'Rapid', 'lesopilka74', 1612, 'Umid_1990', 1658, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Rb1,O-O,d5,c6,Nf3,Nbd7,Bd3,e5,Bg5,h6,Bxf6,Qxf6,O-O,Qe7,h3,f5,exf5,gxf5,dxc6,Nb6,cxb7,Bxb7,Nh2,e4,Be2,d5,b3,Bxc3,f3,Rad8,fxe4,dxe4,Qc1,Qg7,Qf4,e3,Nf3,Nd5,Bc4,Kh7,Bxd5,Rxd5,Qxe3,Bd4,Nxd4,Rxd4,Rf2,Rf7,Rbf1,Re4,Qxa7,Rh4,Qe3,f4,Qd3+,Kh8', 'Qd8+,Kh7,Qxh4', 'https://lichess.org/training/lQsVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQtcV', 'Rapid', 'fabianemmanuelc', 1658, 'TzlilDayan', 1673, 'f4,f6,Nf3,Nc6,e4,d6,d3,Bg4,h3,Bxf3,Qxf3,e5,f5,Nd4,Qf2,c6,c3,Nb5,d4,Ne7,Bxb5,cxb5,d5,Nc8,g4,Nb6,Qd2,Na4,b3,Nc5,Qe3,g6,b4,Na6,Na3,Nc7,c4,bxc4,Nxc4,gxf5,gxf5,Nb5,Na5,Qc7,O-O,Nd4,Qd2,b6,Nc6,Nxc6,dxc6,Qxc6,Re1,Rg8+,Kh2,O-O-O,Qd3,Kb7', 'b5,Qc8,Qd5+', 'https://lichess.org/training/lQtcV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lQTEJ', 'Blitz', 'kpc2209', 2478, 'IM MilovanR', 2507, 'Nf3,Nf6,c4,g6,Nc3,Bg7,d4,Kf8,Bg5,h6,Bh4,Kg8,e3,Kh7,Bd3,d6,Qc2,Re8,h3,c5,d5,a6,O-O,b5,cxb5,axb5,Bxb5,Qb6,a4,Bd7,e4,Bxb5,Nxb5,Nbd7,Nd2,Qb7,Nc4,Nb6,b3,Nh5,Rab1,g5,Bg3,Nxg3,fxg3,Kg8,Qf2,Rf8,h4,Nxc4,bxc4,Rxa4,hxg5,hxg5,Qf5,Qc8,Qxg5,Rxc4,Qxe7,Qg4,Nxd6,Bd4+,Kh2', 'Qh5+,Qh4,Qxh4+,gxh4,Be5+', 'https://lichess.org/training/lQTEJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqtM8', 'Rapid', 'Little_Dead_Bertha', 2154, 'Josue-Argel', 1854, 'Nf3,b6,g3,Bb7,Bg2,d5,d4,e6,Bf4,Bd6,O-O,Bxf4,gxf4,f6,e3,Ne7,Bh3,Qd7,Kh1,Nbc6,Rg1,g6,c3,O-O-O,b4,Nf5,Qd3,Nce7,Nbd2,Rdg8,a4,Nd6,Nh4,g5,fxg5,fxg5,Nhf3,Nc4,Nxg5,Nxd2', 'Bxe6,Qxe6,Nxe6', 'https://lichess.org/training/LqtM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQu9v', 'Rapid', 'DanielChess05', 1788, 'Jean-Patrick', 1813, 'd4,g6,Nf3,Nf6,Bf4,Bg7,e3,O-O,Be2,Nc6,O-O,d5,h3,Ne4,Nbd2,Bf5,c3,e6,Nxe4,Bxe4,Qb3,Na5,Qb5,c6,Qa4,b5,Qd1,Nc4,b3,Nd6,Ne5,Bxe5,dxe5,g5,Bg3,Nf5,Bh2,Nh4,f3,Bg6,g3,Nf5,g4,Nxe3,Qd2,Nxf1,Kxf1,a6,Kf2,Qb6+,Kg2,h6,h4,Qd8,hxg5,Qxg5,Bf4,Qe7,Bxh6,Rfe8,Rh1,f6,f4,f5,gxf5,Bxf5,Bh5,Qh7,Bxe8', 'Be4+,Kg1,Bxh1', 'https://lichess.org/training/LQu9v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LquAX', 'Blitz', 'W8D0A5VX', 1770, 'Asghar01', 1803, 'd4,d5,e3,Nf6,Bd3,c5,c3,Nbd7,Nf3,e6,Nbd2,Be7,Bb1,b6,O-O,Bb7,b3,O-O,Bb2,Rc8,Re1,Qc7,Bd3,Qb8,Be2,Ne4,Rc1,Ndf6,h3,Bd6,dxc5,bxc5,Bd3,Rfd8,Qc2,h6,Red1,Nxd2,Qxd2,c4,Bb1,Be7,b4,Ne4,Qe2,Bf6,Bxe4,dxe4,Rxd8+,Rxd8,Nd4,e5,Nf5,Rd3,Qg4,Kh7,Ng3,Qc8,Nxe4,Qxg4,Nxf6+,gxf6,hxg4,e4,Rc2,Bc8,f3,exf3,gxf3,f5,gxf5,Bxf5,Re2,Rd1+,Kf2', 'Bd3,Re1,Rd2+,Kg3,Rxb2', 'https://lichess.org/training/LquAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lqVCn', 'Rapid', 'mazen_ramzi', 1890, 'itaydery', 1725, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Qb6,Nb3,Qb4+,c3,Qxe4,Qd3,Qxd3,Bxd3,d5,O-O,Nf6,N1d2,Bd6,Bg5,Be7,Rfe1,O-O,Rac1,a6,Nd4,Nxd4,cxd4,Bd6,Bxf6,gxf6,Nb3,Bd7,Nc5,Bxc5,dxc5,e5,a3,e4,Bb1,Kh8,b4,Rg8,Ba2,Bc6,Rcd1,Rad8,Re2,Rg5,Red2,f5,g3,f4,Kf1,fxg3,hxg3,Rh5,Kg1,Rg5,Re1,f5,Red1,e3,fxe3,Rxg3+,Kf2,Rh3,Bxd5', 'Rh2+,Kg3,Rxd2', 'https://lichess.org/training/lqVCn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQVfI', 'Rapid', 'twheen', 1750, 'Dominium', 1936, 'd4,d5,e3,Nf6,c4,e6,Nf3,c5,cxd5,exd5,Bb5+,Nc6,Nc3,Bd7,O-O,cxd4,exd4,Be7,Bg5,a6,Bxf6,Bxf6,Ba4,O-O,Nxd5,Bg4,Bxc6,bxc6,Nxf6+,Qxf6,Qd3,Rfd8,Ne5', 'Qxe5,Qxh7+,Kxh7', 'https://lichess.org/training/LQVfI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQVfw', 'Rapid', 'Diablosta', 1930, 'Mark2_alias', 1913, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Bd7,Nf3,Bc6,Bd3,Nd7,O-O,Ngf6,Re1,Nxe4,Bxe4,Bxe4,Rxe4,Nf6,Re2,c5,Bg5,cxd4,Nxd4,Be7,c3,O-O,Qb3,Rb8,Rd1,Qa5,Nxe6,fxe6,Rxe6,Qxg5', 'Re5+,Kh8,Rxg5', 'https://lichess.org/training/LQVfw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lqVUR', 'Rapid', 'SEL2525', 1926, 'H3paJ', 1936, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Bg4,h3,Bh5,Nb5,Qd7,d4,c6,Nc3,e6,a3,Bd6,Be3,Qc7,Be2,Nf6,Qd3,Bg6,Qd2,Nbd7,O-O-O,O-O-O,g4,Ne4,Nxe4,Bxe4,Rhg1,Nb6,Ng5,Bg6,Bd3,Bxd3,Qxd3,h6,Ne4,Be7,Qe2,Nd5,Qf3,Nxe3,Qxe3,f5,Nc5', 'Bg5,Qxg5,hxg5', 'https://lichess.org/training/lqVUR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqYcC', 'Blitz', 'IM iulikjulik86', 2577, 'WIM strawberry11', 2431, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,d3,Bg7,h3,Nf6,Nc3,Nd7,Be3,e5,O-O,b6,Qd2,h6,Nh2,Nf8,f4,exf4,Bxf4,Ne6,Bg3,Nd4,Kh1,Be6,Ng4,Bxg4,hxg4,h5,g5,h4,Bh2,h3,g4,Rh4,e5,Rxg4,Ne4,Qd5,c4,Qe6,Nd6+,Kf8,Rxf7+,Kg8,Qe3,Nf5,Rxf5,gxf5,Qxh3,Bxe5,Re1,Qxd6', 'Bxe5,Qg6,Qh8+,Kf7,Qxa8', 'https://lichess.org/training/LqYcC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lqyH0', 'Rapid', 'cesarguedas', 1611, 'bernardsovdat', 1621, 'f4,c5,Nf3,Nc6,e4,e6,Bb5,Nge7,c3,a6,Ba4,b5,Bc2,c4,d4,cxd3,Qxd3,d5,e5,g6,O-O,Bb7,Nd4,Qb6,Kh1,Nxd4,cxd4,Nf5,Rd1,Rc8,Nc3,Rc4,Ne2,Be7,g4,Nh6,Bb3,Rc8,f5,exf5', 'Bxh6', 'https://lichess.org/training/lqyH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LqyPX', 'Blitz', 'LuizCarlos02', 1789, 'zoltar77', 1760, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Bg4,Be2,Be7,O-O,O-O,Re1,Re8,Ne5,Be6,Bg5,Nfd7,Bxe7,Qxe7,Nxd7,Qxd7,Bf3,c6,Qd2,Na6,a3,b5,Re3,b4,axb4,Nxb4,Rae1,Bf5,Rxe8+,Rxe8,Rxe8+,Qxe8,Na4,Nxc2,g4,Bg6,h4,h6,Kf1,a5,Nc5,Nb4,Nb7,Bd3+,Kg2,Qa8,Nc5,Bb5,Qf4,Na6,Nd7,Qe8,Ne5,f6,Nxc6,Bxc6,Qd6,Nb4,g5,hxg5,hxg5,fxg5,Bg4,Nd3,Be6+,Kh8', 'Qh2+,Qh5,Qxh5#', 'https://lichess.org/training/LqyPX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQzI2', 'Rapid', 'samuelthairu77', 1718, 'ApexDark', 1736, 'd4,g6,e3,Bg7,c4,d6,b4,e5,Bb2,Be6,Nf3,e4,Nfd2,f5,d5,Bxb2,dxe6,Bxa1,Qa4+,c6,c5,Qe7,Bc4,d5,Bxd5,Nf6,Bb3,O-O,O-O,Nd5,Na3,Be5,Nac4,Qxe6,Nxe5,Qxe5,Qa3,Nd7,Bxd5+,Qxd5,Rd1,Qe6,Rc1,Ne5,Qc3,Rfd8,a4,Rd3,Qb2,Rad8,Nf1,a6,b5,cxb5,axb5,axb5,Qxb5,Qc6,Qa5,R8d7,Ng3,Kg7,h3,Rd1+,Rxd1,Rxd1+,Kh2,Nd3,Qd8,Qxc5,Qd7+,Kh6,Qxb7,Qc1,Qb8,Nxf2,Qf8+,Kg5,h4+,Kxh4', 'Qh6+,Kg4,Qf4#', 'https://lichess.org/training/LQzI2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LQZXw', 'Rapid', 'jonathandickhead22', 1639, 'Zorrodesierto', 1667, 'd4,d5,c4,e6,Nc3,c6,Nf3,Nd7,Bf4,h6,e3,g5,Bg3,f5,h3,Bg7,Ne5,Nxe5,Bxe5,Bxe5,Qh5+,Kd7,dxe5,Ne7,cxd5,exd5,O-O-O,Kc7,g3,Be6,f4,Qg8,Bd3,Ng6,g4,gxf4,gxf5,Bf7,fxg6,Bxg6,Qxg6,Qxg6,Bxg6,fxe3,Rde1,Rhg8,Bh5,d4,Ne2,c5,Rhg1,Kd7,Rxg8,Rxg8,Nf4,Rg5,Bd1,Rxe5,Bg4+,Kd6,Nd3,Re4,Bf3,Re7,Rd1,c4,Nb4,Kc5,Nd5,Rf7,Bh1,e2,Re1,Rf1,Kd2,d3,Nc3,Rxe1,Kxe1,Kd4,Kd2,b6,Nb5+,Kc5,Nxa7,Kb4,Nc6+,Kc5,Ne5,Kd4,Nf3+,Kd5,h4,Ke6,h5,Kf5,Nd4+,Kf4,b3', 'c3+,Kxd3,e1=Q', 'https://lichess.org/training/LQZXw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lr0Eh', 'Blitz', 'bottepiena', 1580, 'dorhinj1', 1654, 'd4,Nf6,c4,c5,e3,cxd4,exd4,d5,Nc3,Nc6,Be3,Bg4,Qd2,e6,h3,Ne4,Nxe4,dxe4,a3,Bf5,g4,Bg6,Bg2,Rc8,Ne2,h5,Rc1,hxg4,hxg4,Rxh1+,Bxh1,Qh4,Ng3,Bd6,Bg5,Qh7,d5,Bxg3,dxc6,Qxh1+,Ke2,Qf3+,Ke1,e3', 'Qd7+,Kf8,Qxc8#', 'https://lichess.org/training/Lr0Eh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LR2w4', 'Rapid', 'diovinn', 2082, 'wheniam64', 1950, 'd4,Nf6,Nc3,d6,e4,Nbd7,f3,c5,Nge2,e5,d5,g6,Be3,a6,a4,b6,g4,Bg7,Ng3,h5,gxh5,Nxh5,Nxh5,Rxh5,Be2,f5,f4,Rh8,Qd2,Qh4+,Kd1,exf4,Bxf4,Ne5,Bg5,Qf2', 'Bb5+,axb5,Qxf2', 'https://lichess.org/training/LR2w4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LR2ZP', 'Rapid', 'iyadjamal', 1731, 'a8001249017352341662', 1770, 'd4,d5,Bg5,Nf6,Nc3,Nbd7,Nf3,h6,Bh4,e6,Ne5,Bd6,f4,c5,Nb5,Qa5+,Nc3,Ne4,Qd3,cxd4,Qxd4,Bc5,Qd3,Bb4,Kd1,Nxc3+,bxc3,Bxc3,Rb1,Nxe5,fxe5,O-O,Rb3,Bxe5,a3,Bd7,e4,g5,Be1,Qc7,exd5,Rfd8,Qh3,exd5,Qxh6,Bg7,Qxg5,Rac8,Bd3,Re8,Qh5,f5,Rf1,Qe5,Bc3', 'Rxc3,Rxc3,Qxc3', 'https://lichess.org/training/LR2ZP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LR9td', 'Rapid', 'blob-fisch', 1893, 'khairinasir', 1959, 'd4,g6,c4,Bg7,e4,c5,Nf3,cxd4,Nxd4,Nc6,Be3,d6,Nc3,Nh6,c5,O-O,cxd6,Qxd6,Nxc6,Qxc6,Rc1,Ng4,Nd5,Qd6,Bd4,Bxd4,Qxd4,e6', 'Nf6+,Nxf6,Qxd6', 'https://lichess.org/training/LR9td');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lRAlW', 'Classical', 'Khukri', 1982, 'bjcba123', 1905, 'd4,d5,Nf3,Nf6,g3,e6,Bg2,Nbd7,c3,c5,O-O,Bd6,Re1,O-O,Nbd2,e5,dxe5,Nxe5,Nxe5,Bxe5,Nf3,Bc7,Bg5,Be6,e4,h6,Bxf6,Qxf6,exd5,Rad8,c4,Qxb2,Qb3,Qxb3,axb3,Bf5,Rxa7,Rb8,Re7,Rfc8,Nh4,Bc2,Bh3,Bd6,Rxf7', 'Kxf7,Bxc8,Rxc8', 'https://lichess.org/training/lRAlW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lRAp4', 'Rapid', 'woodswoods', 1889, 'setset150', 1858, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,b6,e3,Bb7,Bd3,Nbd7,O-O,c5,cxd5,Nxd5,Bxe7,Nxe7,Be4,Bxe4,Nxe4,cxd4,Nd6+,Kf8,Nxd4,Nf6,Nc4,Rc8,Ne5,g6,Qf3,Kg7,Rac1,Rxc1,Rxc1,Qd5,Qf4,Qe4,Qxe4,Nxe4,f3,Nc5,b4,Na6,a3,Nd5,Kf2,Rd8,Rc6,Kf6,Ng4+,Ke7,e4,Nf4,Nb5,Nd3+,Ke3,Rd7,Nxa7,Ndxb4,axb4,Nxb4,Rxb6,Nc2+,Kf2,Rxa7,Ne5,Nd4,Ke3,Nc2+,Kd3,Kf6,f4,Ra2,Ng4+,Kg7,g3,Ne1+,Ke3,h5,Nf2,Nc2+,Kf3,Nd4+,Ke3,Ne2,e5,Nc3,Rc6,Nd5+,Kf3,Ra3+,Ke2,Ne7,Rc7,Nf5,Ne4', 'Re3+,Kf2,Rxe4', 'https://lichess.org/training/lRAp4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lRAqO', 'Rapid', 'VelPuli', 1711, 'havalimemo', 1675, 'd4,e6,Nc3,d5,a3,Nf6,Bf4,Bd6,e3,O-O,Qf3,Re8,O-O-O,Nc6,h4,Qe7,Bg5,Bxa3,Bxf6,Bxb2+,Kxb2,Qb4+,Kc1,Qxc3,Bd3,g6,h5,Nb4,Rd2', 'Qa1#', 'https://lichess.org/training/lRAqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LRbEM', 'Rapid', 'tonyarzenta', 1687, 'XtremeToaster', 1864, 'd4,d5,e3,Bf5,Bd3,Bxd3,Qxd3,e6,Nc3,Nf6,Nf3,Nbd7,Ne5,a6,O-O,Bd6,f4,Qe7,a3,h5,b4,b5,Rb1,O-O,a4,bxa4,Nxa4,Ne4,Nc5,Ndf6,Bd2,a5,c3,axb4,cxb4,Ra2,Rfd1,Rfa8,Qe2,Nc3,Qe1,Nxd1,Qxd1,Bxc5,bxc5,Ne4,Bb4,f6,Ng6,Qe8,Qxh5,Rb2,Qh8+,Kf7,Ne5+,fxe5,Qh5+,Ke7,c6+,Kd8,Qh4+,Kc8,Rxb2,Ra1+,Be1,Qh5,Rb8+,Kxb8', 'Qd8+,Ka7,Qxc7+,Ka6,Qb7#', 'https://lichess.org/training/LRbEM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrBuh', 'Blitz', 'CorneliusTalmadge', 1926, 'SneeW', 1925, 'd4,d5,Nf3,Nf6,Nc3,e6,Bg5,Be7,e3,b6,Bb5+,Nbd7,h3,Bb7,a3,a6,Ba4,O-O,g4,c5,Bxd7,Nxd7,Bxe7,Qxe7,Qd2,e5,O-O-O,Rac8,Rhg1,Qf6,Nxe5,Nxe5,dxe5,Qxe5,f4,Qe7,Nxd5,Bxd5,Qxd5,Qxe3+,Kb1,Qxf4,Rgf1,Qh2,Rf3,c4,g5,Rc5', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/lrBuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrDfb', 'Classical', 'andy11111', 2078, 'Psharmxyz', 2086, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Nc3,Nxc3,dxc3,Nc6,Ng5,d5,Bxd5,Be6,Bxc6+,bxc6,Qxd8+,Rxd8,Nxe6,fxe6,O-O,Bd6,Be3,a5,Rfe1,O-O,Rad1,Rb8,b3,c5,Rd3,a4,Red1,axb3,cxb3,Ra8,R3d2,Ra6,Re2,Rfa8,Ra1,Ra3,Bc1,Rxb3,Bb2,c4', 'axb3,Rxa1+,Bxa1', 'https://lichess.org/training/lrDfb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrDi9', 'Rapid', 'Ajay_juyal_Lee', 1670, 'Radical87', 1902, 'e4,g6,e5,Bg7,f4,c5,Nf3,d6,Qe2,Bg4,Qb5+,Qd7,Ng5,Nc6,h3,Bf5,Bc4,e6,g4,Bxc2,Nc3,h6,Nge4,dxe5,Nxc5,Qc7,d3,O-O-O,Bxe6+,fxe6,Nxe6,Qe7,Nxd8,exf4+,Ne2,Qxd8,Bxf4,Qa5+', 'Qxa5,Nxa5,Rc1', 'https://lichess.org/training/lrDi9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lRDlu', 'Rapid', 'SmotheredHobbit', 1688, 'Bartelsaaf', 1680, 'b3,g6,Bb2,Nf6,e3,Bg7,e4,d6,c4,Bg4,Be2,Bxe2,Nxe2,e5,d4,Nbd7,Ng3,O-O,d5,Nc5,O-O,Nfxe4,Nxe4,Nxe4,Nd2,Nc5,a4,a5,Qc2,Re8,f3,Qg5,Ne4,Nxe4,fxe4,b6,Bc1,Qg4,Qf2,Qxe4,Qxf7+,Kh8,Qxc7', 'Qd4+,Be3,Qxe3+', 'https://lichess.org/training/lRDlu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LREX0', 'Rapid', 'maglauber', 2109, 'igor051158', 2138, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,O-O,h3,e5,d5,a5,Qd2,Na6,g4,b6,Nge2,Nc5,f3,Bd7,Ng3,Re8,h4,Bxg4,fxg4,Nxg4,Bg5,f6,Be3,Nxe3,Qxe3,Rf8,h5,g5,Nf5,h6,Nb5,Rf7,Bh3,Ra6,Rf1,Ra8,Rf3,Ra6,Ke2,Ra8,Raf1,Nd7,Nxg7,Kxg7,Qf2,Nc5,Bf5,Qe7,Bg6,Rff8,Nc3,Rad8,Nd1,f5,Bxf5,Rf6,Ne3,Rdf8,Qg2,Kh8,Ng4,Kg7,Nxf6,Rxf6,Bg6,Rf4,Rxf4,exf4,Qf3,Qe5,Qc3,Kf6,Kf3,Na4,Qxe5+,Kxe5,b3,Nc5,Rg1,Kf6,Rb1,Nd7,a3,Ne5+,Kf2,g4,b4,Nxc4,bxa5,g3+,Kg2,bxa5,Rb7,Nxa3,Rxc7,Nb5,Rf7+,Ke5,Rf5+,Kxe4,Rf8+,Kxd5,Ra8,Nd4,Rxa5+,Ke6,Ra4,Ke5,Bd3,Ne6,Re4+,Kf6,Ra4,d5,Ra6,Ke5,Bg6,Ng5,Bd3,Kd4,Be2,Ke3,Bg4,d4,Rxh6,d3,Rg6,f3+,Kxg3,d2,Bxf3', 'Nxf3,Re6+,Kd3,Kxf3,d1=Q+', 'https://lichess.org/training/LREX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lRjjb', 'Classical', 'Ghengis_Khan', 1806, 'Bernhas', 1802, 'd4,d5,c4,e6,Nf3,c5,cxd5,exd5,Bf4,Nf6,e3,Be6,h3,c4,Nc3,Bb4,Bxb8,Rxb8', 'Qa4+,b5,Qxb4,a5,Qc5', 'https://lichess.org/training/lRjjb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrjtG', 'Blitz', 'Nikoletina', 1999, 'ckuttruff', 1980, 'f4,d5,d4,Nf6,e3,Bg4,Nf3,e6,Be2,Nc6,c3,Be7,O-O,O-O,Ng5,Bxe2,Qxe2,h6,Nf3,Ne4,Nbd2,f5,Nxe4,fxe4,Ne5,Nxe5,fxe5,Qd7,Rf4,Rf5,Bd2,Raf8,Raf1,Bg5,Rxf5,Rxf5,Rxf5,exf5,b3,Qe7,c4,b6,cxd5,c5,dxc6,Qa3,Qc4+,Kh7,h3,Qxa2,Qc3,Qb1+,Kh2,Qf1,c7,Bh4,c8=Q,Qf2,Be1', 'Bg3+,Kh1,Qf1#', 'https://lichess.org/training/lrjtG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LrKwO', 'Blitz', 'OmarAGouda', 1704, 'sshilovsky', 1694, 'd4,g6,e4,Bg7,Nc3,e5,d5,c6,Be3,cxd5,Nxd5,d6,Ne2,Nc6,Nec3,Be6,Qd2,Bxd5,Nxd5,Nge7,Bh6,Bxh6', 'Nf6+,Kf8,Qxh6#', 'https://lichess.org/training/LrKwO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrlLs', 'Rapid', 'Temug', 1845, 'zateznik', 1888, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nxc6,bxc6,Nc3,Be6,Be3,Nf6,Ba6,Be7,Bb7,O-O,Bxa8,Qxa8,O-O,d5,exd5,cxd5,Bg5,h6,Bh4,Qd8,Qd4,c5,Qd2,Ne4,Nxe4,Bxh4,Nxc5,Qb6,Nxe6,fxe6,b3,d4,Rad1,e5,Rde1,Bf6,Qd3,Qa5,a4,Kh8,Qb5,Qd2,Qc5,Re8,Rd1,Qf4,Qxa7,e4,b4,Be5,g3,Qf3,Rxd4,Bxd4,Qxd4,Rc8,Re1,Rxc2,Qxe4', 'Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/lrlLs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lRmmM', 'Rapid', 'rodrigo1957', 1760, 'KATOU_MEGUMI', 1633, 'e4,e5,Nf3,Nc6,c3,Bc5,Nxe5,Qf6,Nf3,d6,h3,Ne5,d3,h5,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/lRmmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrmQg', 'Rapid', 'psyduck', 1718, 'HaytemBrb', 1700, 'e4,c6,Nf3,d5,d3,dxe4,dxe4,Nd7,Nc3,e5,Bc4,b5,Bb3,a5,a3,Bb7,Ng5,Nc5,Nxf7', 'Qxd1+,Nxd1,Nxb3,cxb3,Kxf7', 'https://lichess.org/training/lrmQg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrN3D', 'Rapid', 'MohammedHassanin30', 2165, 'Euroshima', 2092, 'd4,e5,dxe5,d6,Nf3,Bg4,exd6,Bxd6,c3,Qe7,Qa4+,Bd7,Qb3,Nc6,Bg5,Nf6,e3,O-O,Nbd2,h6,Bxf6,Qxf6,Ne4,Qg6,Nxd6,Qxd6,Rd1,Qe7,Be2,a6,O-O,b5,Qd5,Rad8,Nd4,Na5,Qf3,Bc8,b4,Bb7,Qg3,Nc4,Bxc4,bxc4,a4,c5,bxc5,Qxc5,Rb1,Be4,Ra1,Bd3,Rfc1,Rb8,h3,Rb6,Ra2,Rg6,Qf4,Re8,Kh2,Be4,f3,Rf6,Qh4,Bd3,e4,Re5,Qg3,Rg5,Qb8+,Kh7,h4,Rh5,g3,g5,Kh3,gxh4,gxh4,Rxf3+,Nxf3,Qe3,Kg3,Bxe4,Rf1,Rf5,Raf2,Qxc3,Qb2', 'Rxf3+,Rxf3,Qxb2', 'https://lichess.org/training/lrN3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrN6W', 'Blitz', 'violinandchess', 1586, 'BANDARA_W_S_K', 1987, 'e4,Nc6,Nf3,d6,d4,Nf6,Nc3,Bg4,d5,Ne5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,g6,Bg5,Bg7,O-O-O,O-O,Rhe1,a5,e5,dxe5,Rxe5,h6,Bxf6,Bxf6,Ree1,Bxc3,Qxc3,Kh7,Re3,Qd6,Rh3,h5,g4,Qf4+,Kb1,Qxg4,Rg1,Qf5,a3,Qxf2', 'Rxh5+,gxh5,Qg7#', 'https://lichess.org/training/lrN6W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrPSI', 'Blitz', 'NM Hangemhigh', 2361, 'Nachiket_Paturkar', 2040, 'd4,Nf6,f3,g6,e4,Bg7,Nc3,O-O,Bg5,d6,Qd2,Nbd7,O-O-O,c5,Nge2,b5,Nxb5,Rb8,dxc5,Nxc5,Nec3,a6,Na3,Nfxe4,fxe4,Nxe4,Qe3,Bxc3,bxc3,Qa5,Qxe4,Qxg5+,Rd2,Bf5,h4', 'Qxd2+,Kxd2,Bxe4', 'https://lichess.org/training/lrPSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LRpt4', 'Rapid', 'outsider239', 1662, 'kkgamer', 1650, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d3,d6,Ng5,Nh6,Qh5,O-O,h3,Qe7,Nf3,Be6,Bxh6,Bxc4,dxc4,gxh6,Qxh6,Qe6,Qg5+,Qg6,Qh4,Qxg2', 'Rg1,Qxg1+,Nxg1', 'https://lichess.org/training/LRpt4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LRr4x', 'Classical', 'il-69', 1801, 'Mateintwo2', 1881, 'e4,e6,d4,d5,e5,c5,c3,a6,Nf3,Nc6,a3,Qb6,b4,cxd4,cxd4,Nh6,Bxh6,gxh6,g3,Be7,Bg2,O-O,O-O,Kh8,Nc3,f6,Qd2,fxe5,Qxh6,Rf6,Qh5,Bf8,Na4,Qd8,Nxe5,Nxe5,Qxe5,Bg7,Qh5,Bd7,Nc5,Be8,Qg4,Bf7,Nxb7,Qf8,Nc5,Rg6,Qd1,Rd8,Nxa6,e5,dxe5,Rxa6,f4,Re6,Qd4,Rc6,Rfc1,Rc4,Qf2,d4,Rxc4,Bxc4,Rc1,Qf7,Be4,d3,Qd2,Qa7+,Kg2,Qd4,Bf3,Bd5,Bxd5,Qxd5+,Kf2,Qd4+,Kg2,Qe4+,Kf2,Rf8,Kg1,Rd8,b5,Bf8,Rc3,Qe2,Qxe2,dxe2,Kf2,Rd2,Re3', 'Bc5,Ke1,Bxe3', 'https://lichess.org/training/LRr4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LrRsC', 'Rapid', 'Loujine1970', 1986, 'tristanisaruler', 2105, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,h3,h6,Nf3,Nf6,O-O,O-O,Nc3,Nc6,a3,a6,Be3,Re8,Qc1,Ne7,Bf4,Ng6,Bxd6,Qxd6,Bxg6,fxg6,Ne5,Bf5,Qd2,Nd7,f4,c5,Nxd7,Bxd7,dxc5,Qxc5+,Qf2,d4,Rfd1,Bf5,Qxd4', 'Re1+,Kf2,Qxd4+,Rxd4,Rxa1', 'https://lichess.org/training/LrRsC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LRSnl', 'Blitz', 'Beg_in', 1593, 'Lesslove', 1598, 'd4,c5,Nf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bf4,Nf6,e3,e6,Nd2,Bb4,a3,Ba5,b4,Bb6,Nf3,O-O,Bd3,h6,O-O,Bb7,Ne5,d6,Nc4,d5,Ne5,Nd7,Nf3,Qf6,h3,e5,Bxe5,Nxe5,Nxe5,Qxe5,Qf3,Bc7,g3,Rab8,Qg4,Bc8,Qf3,Bxh3,Kh2,Bxf1,Rxf1,Qf6,Qg4,Rfe8,Kg2,Re5,Rh1,Rg5,Qd7,Bxg3,fxg3,a5,Qc7,Re8,Rf1,Qe5', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/LRSnl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LrTCL', 'Rapid', 'orcus', 2029, 'Wrongmovers', 2074, 'd4,d5,c4,c6,Nc3,e6,e3,Bb4,cxd5,cxd5,Qc2,Nf6,Bd3,h6,Ne2,Nc6,O-O,Bxc3,bxc3,a6,Ba3,Ne7,f3,O-O,e4,dxe4,fxe4,Ng4,Qd2,Re8,h3,Nf6,Bc1,b5,Ng3,Qc7,Rf3,Bb7,Rxf6,Qxg3,Rf3,Qh4,Ba3,Ng6,Bd6,e5,Raf1,f6,d5,Nf4,Bc2,Qg5,Bc5', 'Nxh3+,Rxh3,Qxd2', 'https://lichess.org/training/LrTCL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrTJs', 'Rapid', 'IamFantasticIdiot', 2115, 'zikou', 1773, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,g3,Bb7,Bg2,Nc6,O-O,h5,Re1,h4,Nd5,Bd6,Nf5,exf5,exf5+,Nge7,f6,gxf6,Nxf6+,Kf8,Qg4,Ne5,Qg5,Bxg2,Kxg2,h3+,Kf1,Nf3', 'Qh6+,Rxh6,Bxh6#', 'https://lichess.org/training/lrTJs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrtjv', 'Rapid', 'Leva25', 1722, 'Peyman35', 1904, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,h3,Nf6,d3,Qd6,Bg5,O-O,O-O,Nh5,c3,Ng3,Re1,f5,exf5,Bxf5,Rxe5,Bxd3,Rxc5,Qxc5,Qxd3,Rae8,Be3,Qe7,Nbd2,Nf5,Re1,Qf6,Bd4,Nxd4,Rxe8', 'Nxf3+,Nxf3,Rxe8', 'https://lichess.org/training/lrtjv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lRttQ', 'Rapid', 'Theo_is_thinking', 1761, 'Alexandr260762', 1758, 'h4,d5,a4,Nc6,g3,Bf5,Bh3,Be4,f3,Bg6,d3,e6,Bg2,d4,g4,h5,g5,Bd6,a5,a6,f4,Bf5,e3,dxe3,Bxe3,Bg4,Bf3,Bb4+,c3,Bxf3,Qxf3,Qxd3,cxb4,Nd4,Bxd4,Qxd4,Qxb7,Rd8,Qc6+,Rd7,Qa8+,Ke7,Nc3,Qe3+,Nge2,Qd2+,Kf1,Rd8,Rd1', 'Qxd1+,Nxd1,Rxa8', 'https://lichess.org/training/lRttQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LrW72', 'Rapid', 'Brunomig', 1849, 'dtmalinski', 1779, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,e5,Qf3,Nf6,d3,h6,Nc3,Bg4,Qg3,Nc6,a3,Be6,Nf3,Bd6,O-O,Nh5,Qh4,Qxh4,Nxh4,Nf4,Bxf4,exf4,Nf3,g5,Bxd5,Bxd5,Nxd5,O-O-O,c4,Be5,Nxe5,Nxe5,Rad1,Nc6,Rfe1,Rhe8,b4,Nd4,Re4,Nc2,a4,Rxe4,dxe4,Na3,Ne7+,Kc7,Rxd8,Kxd8,Nf5,h5,c5,Nc4,Nd6,Nxd6,cxd6,Kd7,e5,b6,f3,Ke6,Kf2,f6,exf6,Kxf6,d7,Ke7,Ke2,Kxd7,Kd3,Kd6,Ke4,Ke6,h3,h4,b5,Kd6,Kf5,Kc5,Kxg5,Kb4,Kxf4,Kxa4,Kg4,Kxb5,f4,a5,f5,a4,f6,a3,f7,a2,f8=Q,a1=Q,Qf5+,Ka6,Qd3+,Ka7,Qd7+,Ka6,Qc8+,Ka7,Qc7+,Ka6,Qc4+,Ka7,Qc7+,Ka6,Qf4,Qg7+,Qg5', 'Qxg5+,Kxg5,b5,Kxh4,b4', 'https://lichess.org/training/LrW72');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LRwJy', 'Rapid', 'ck_64', 1800, 'TigerSiberian69', 1951, 'e4,g6,d4,Bg7,Be3,d6,Nd2,Nf6,Bd3,Ng4,Bf4,e5,dxe5,Nxe5,Be2,Nbc6,Ngf3,O-O,c3,Bd7,O-O,Kh8,Nd4,h5,h3,Qe7,Be3,Nxd4,cxd4,Nc6,d5,Nd4,Bd3,c5,f4,Qh4,Nf3,Nxf3+,Qxf3,b5,Rab1,Rae8,f5,gxf5,exf5', 'Rxe3,Qxe3,Bd4', 'https://lichess.org/training/LRwJy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lRY1l', 'Rapid', 'mukeshsirsat', 1722, 'iran000iran', 1656, 'e4,d5,exd5,Qxd5,Nc3,Qa5,a3,Nc6,Nf3,Bg4,h3,Bxf3,Qxf3,Nf6,Bd3,O-O-O,O-O,Ne5,Qe2,Nxd3,cxd3,Qa6,Ne4,Nxe4,Qxe4,Rxd3,Re1,Qg6,b4,Rxh3', 'Qxg6,hxg6,gxh3', 'https://lichess.org/training/lRY1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lRyak', 'Rapid', 'desh355', 1869, 'ergu85', 1914, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,Qc7,d3,a6,a4,Nf6,O-O,Be7,h3,O-O,Nh2,b6,f4,Bb7,e5,Ne8,Ne4,d6,exd6,Nxd6,Bb3,Nf5,Qg4,Ncd4,Nf3,Nxb3,cxb3,c4,bxc4,Bc5+,Kh1,Be3,Nfg5,Bxc1,Nf6+,gxf6', 'Nxe6+,Kh8,Nxc7', 'https://lichess.org/training/lRyak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrYtI', 'Rapid', 'Sportknights', 1908, 'ChaudFontaine', 1940, 'e4,c6,Nf3,d5,Nc3,Bg4,exd5,cxd5,Be2,Bxf3,Bxf3,e6,d3,Bb4,Bd2,Nf6,a3,Bxc3,Bxc3,Nc6,O-O,d4,Bd2,Qb6,b3,Rc8,b4,Ne5,Rc1,Nxf3+,Qxf3,Qa6,Qd1,Qa4,c3,Qxa3,Ra1,Qb2,Rxa7,O-O,c4,b5,c5,Ra8,Rxa8,Rxa8,h3,Nd5,Qc1,Qb3,Qb1,Qa3,Rc1,Ra4,c6,Nc3,Bxc3,dxc3,Qc2,Qxb4,Qxc3,Qxc3,Rxc3,Ra8,c7,Rc8,Rc5,b4', 'Rb5,Kf8,Rb8,Ke8,Rxc8+', 'https://lichess.org/training/lrYtI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lrYU0', 'Bullet', 'postkartentempo', 1660, 'fath_samir', 1625, 'e4,e5,f4,Qh4+,g3,Qe7,Nc3,exf4,Nf3,fxg3,hxg3,Nf6,e5,Ng4,d4,d6,Bg5,f6,Bf4,dxe5,dxe5,Nxe5,Be2,Nxf3+,Kf2,Ne5,Re1,Nbc6,Bh5+,g6,Bxe5,Nxe5,Bf3,Be6,Nd5,Bxd5,Bxd5,Qc5+,Kg2,O-O-O,Rxe5,fxe5', 'Be6+,Rd7,Qxd7+,Kb8,Qc8#', 'https://lichess.org/training/lrYU0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lRZAe', 'Classical', 'vishnuvarma', 1644, 'Derwill', 1621, 'e4,e5,Nf3,Nc6,g3,d5,exd5,Qxd5,Bg2,Bg4,Nc3,Qe6,O-O,e4,Re1,Nf6,d3,O-O-O,h3,Bxh3', 'Ng5,Bxg2,Nxe6', 'https://lichess.org/training/lRZAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ls0Jj', 'Classical', 'kmitch92', 1816, 'Dinobryon', 1833, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,a6,Ba4,b5,Bb3,Bg4,Qd3,Bxf3,Qxf3,Nxd4,Qxd5,Nxb3', 'Qc6+,Qd7,Qxa8+', 'https://lichess.org/training/Ls0Jj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ls0ko', 'Blitz', 'CM malkalmardgh', 2178, 'areszangana', 2269, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nf3,Be7,Nd5,Nxe4,Bb6,Qd7,Nc7+,Kf8,Nxa8,Qc6,Be3,Nd7,Bd3,Nef6,Bg5,b5,Be2,Qxa8,O-O,Bb7,Qd3,e4,Qe3,exf3,Bxf3,Bxf3,gxf3,Qd5,Rfe1,Ne5,Kg2,h6,Bf4,Ng6,Bg3,Kg8,Rad1,Qc6,h4,Kh7,Qb3,Rf8,Re3,Nh5,Qd3,Kg8,Kh2,Bxh4,Bxd6,Ngf4,Qf5,Bg5,Bxf8,Kxf8,Qxg5,hxg5', 'Rd8+,Qe8,Rexe8#', 'https://lichess.org/training/ls0ko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ls5K3', 'Rapid', 'petrous13', 2059, 'rishud19', 1987, 'e4,e5,Nf3,Bc5,Bc4,Nf6,Nxe5,O-O,d3,d5,Bb3,dxe4,Nxf7,Rxf7,Bxf7+,Kxf7,Nc3,exd3,Qxd3,Qe7+,Be3,Bxe3,fxe3,Nc6,O-O-O,Be6,e4,Rd8,Qf3,Rxd1+,Rxd1,Kg8,Nd5,Qf7,c4,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/Ls5K3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ls6kZ', 'Rapid', 'rfuentes', 1774, 'Acunpakam', 1900, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,Bxf7+,Ke7,d3,Qxe5,Bb3,Nxb3,axb3,d6,Qf3,Nf6,h3,Qe6,Nc3,g6,Nb5,Kd8,Nd4,Qe7,O-O,Bg7,c3,Rf8,Bg5,h6,Bh4,g5,Bg3,Nd5,Nf5,Bxf5,exf5,c6,Rfe1,Qd7,Qg4,Qxf5,Qc4,Be5,Bxe5,Qxf2+,Kh1,dxe5,Rxe5,Ne3,Qd4+,Nd5,Rxd5+,cxd5,Qxd5+,Ke7', 'Qxb7+,Kf6,Ra6+', 'https://lichess.org/training/Ls6kZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LS7ss', 'Rapid', 'Autumnal', 2306, 'CivEn', 2287, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Nge7,c3,dxc3,Nxc3,d6,Bg5,h6,Bh4,g5,Bg3,Bg7,O-O,Be6,Bxe6,fxe6,Qb3,Qd7,Qxb7,Rb8,Qa6,Rxb2,Rac1,O-O,Rfd1,Rxf3,gxf3,Nd4,Qd3,e5,a4,Qh3,Nb5', 'Ne2+,Qxe2,Rxe2', 'https://lichess.org/training/LS7ss');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lS8eM', 'Rapid', 'fome_95', 1838, 'andre114', 1835, 'e4,d5,exd5,Nf6,Bc4,c6,dxc6,Nxc6,Nf3,e5,d3,Bc5,Qe2,O-O,Be3,Nd4,Bxd4,exd4,O-O,Bg4,Nbd2,Re8,Qd1,h6,a3,Qd7,b4,Bb6,Re1,Rxe1+,Qxe1,Re8,Qf1,Nd5,Re1,Be6,Ne5,Qa4,Bb3,Qxa3,Nec4,Qxb4,Nxb6,Qxb6', 'Bxd5,Qa5,Bxe6', 'https://lichess.org/training/lS8eM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LsA4Q', 'Rapid', 'rhinovsvenom', 1802, 'jazzmaucci55', 1994, 'd4,e6,Nf3,d5,Bf4,Bd6,Bg3,f5,e3,Nf6,Nbd2,O-O,Bd3,Ne4,Qe2,a6,Ne5,c6,f3,Nxg3,hxg3,Bxe5,dxe5,c5,c3,Qc7,f4,b5,Qh5,c4,Qxh7+,Kf7,Bc2,Bb7,Rh6,Nc6,Rf6+,Ke8,Rxe6+,Ne7,Qxg7,Bc8,Rh6,Rg8,Qf6,Rxg3,e6,Rxe3+,Kf1,Rxe6,Rh8+,Kd7,Bxf5,Qxf4+,Nf3,Qxf5,Qd4,Bb7,Rxa8,Bxa8,Qa7+,Ke8,Qxa8+,Kf7,Kg1,Qg4,Rf1,Kg7,Qf8+', 'Kxf8,Nh2+,Qf5', 'https://lichess.org/training/LsA4Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LsbqJ', 'Rapid', 'Nekedisjo', 2012, 'fuha', 1887, 'd4,Nf6,c4,b6,Nc3,Bb7,Nf3,Ne4,Qc2,Nxc3,Qxc3,e6,e3,Be7,Be2,Nc6,a3,O-O,b4,Bf6,Bb2,Ne7,O-O,c5,Rad1,Rc8,Qc2,Qc7,dxc5,bxc5,b5,Bxb2,Qxb2,Ng6,Rd2,d5,cxd5,exd5,Rfd1,Rcd8,a4,h6,Bd3,Rd6,Be2,Rfd8,Ne5,Nxe5,Qxe5,Qa5,Qe7,R8d7,Qe8+,Kh7,Bd3+,g6,h4,h5,Qe5,Qxa4,Qxh5+,Kg7,Qe5+,Kh7,h5,Qg4,hxg6+,fxg6,f3,Qe6,Qf4,Rf7,Qh4+,Kg7,Kf2,d4,e4,c4,Rh1,Kf8,Bb1,c3,Qh8+,Ke7,Rxd4,Rxd4,Qxd4,Qb6,Ke3,Qxd4+,Kxd4,Kf6,Kxc3,Rc7+,Kd4,a6,bxa6,Bxa6,Rd1', 'Rd7+,Ke3,Rxd1', 'https://lichess.org/training/LsbqJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LSc0x', 'Blitz', 'FM lalohg', 2124, 'Paulachess2006', 2026, 'e4,c5,Nf3,g6,Nc3,Bg7,g3,Nc6,Bg2,e5,O-O,Nge7,d3,O-O,Nd5,d6,Bg5,f6,Be3,Be6,c4,Nd4,Bxd4,cxd4,Rb1,Nxd5,cxd5,Bd7,Nd2,f5,f4,exf4,gxf4,fxe4,dxe4,Qh4,Qf3,d3,Qg3,Bd4+,Kh1,Qxg3,hxg3,Bg4,Nf3,Be3,Rbe1,Bc5,Rd1,Rae8,e5,dxe5,fxe5,Bxf3,Rxf3,Rxe5,Rxf8+,Kxf8,Rxd3', 'Rh5+,Bh3,Rxh3+', 'https://lichess.org/training/LSc0x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LsdqA', 'Rapid', 'Akibarov', 1746, 'KDB123', 1704, 'd4,Nf6,Bg5,d5,c3,e6,e3,Be7,h4,O-O,Bd3,h6,Bf4,Nc6,Nd2,b6,g4,Nxg4,Qxg4,e5,Bf5,exf4,Qxf4,Bxf5,Qxf5,Bxh4,Ngf3,Bf6,O-O-O,Ne7,Qf4,Ng6,Qg3,Re8,Rdg1,a5,a3,b5,Nb3,b4,Nc5,bxc3,bxc3,Rb8,Kc2,c6,Rb1,Rb5,a4,Rb6,Nd2,Rxb1,Rxb1,Bh4,Qh2,Qf6,Ndb3,Qf5+,Nd3,Bxf2', 'Qxf2,Qxf2+,Nxf2', 'https://lichess.org/training/LsdqA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lsFkc', 'Blitz', 'skuu', 1698, 'VATNIK86', 1714, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,Nf3,Qxe4+,Be2,Bc5,d3,Qc6,h3,O-O,Nc3,Bb4,Bd2,Re8,a3,Bxc3,Bxc3,d5,Nd4,Qd6,Nb5,Qc5,Bxf6,Qxb5,Bc3,Nc6,O-O,d4,Bb4,Nxb4,axb4,Qxb4,b3,Qe7,Bf3,Qg5,Kh2,Be6,Re1,Bd5,Bxd5,Rxe1,Bxf7+,Kxf7,Qxe1,Rf8,Qb4,Kg8,Rxa7,Rxf2,Qc4+,Kf8,Ra8+,Ke7,Qxc7+,Kf6,Qxb7', 'Qf4+,Kg1,Rf1#', 'https://lichess.org/training/lsFkc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lsFWa', 'Classical', 'BeardCash', 2024, 'Baikal1950', 1834, 'e4,e6,d4,d5,e5,c5,c3,c4,Nf3,h6,Be2,Nc6,Nbd2,b5,b3,Na5,bxc4,bxc4,O-O,Ne7,h3,Nec6,Nh2,Be7,Ndf3,O-O,Re1,Rb8,Qc2,Bd7,Bd1,Qc7,Re3,f5,exf6,Bxf6,Ng4,Qd8,Qg6,Ne7,Nxf6+,Rxf6,Qc2,Nf5,Re2,Qf8,Ne5,Qe7,Bf4,Nxd4,cxd4,Rxf4,Ng6,Qf6,Nxf4,Qxf4,Qc3,Nc6,Rd2,Qe4,Ba4,Rb1+,Rxb1,Qxb1+,Kh2,Qf5,Bxc6,Bxc6,Re2,Be8,Re5,Qxf2,Rxe6,Bf7,Ra6,Qf4+,Kg1,Qf5,Rxa7,Qb1+,Kh2', 'Qb8+,Qg3,Qxa7', 'https://lichess.org/training/lsFWa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LSfZw', 'Rapid', 'jianghuxiaoxia', 1898, 'laishiyiyou', 2087, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,cxd5,cxd5,Bf4,Nc6,O-O,a6,Re1,Ne4,Qb3,e6,Rad1,b5,Nxe4,dxe4,Ne5,Nxd4,Qc3,Nxe2+,Rxe2,Qxd1+,Re1,Qd5', 'Bxe4,Qd6,Bxa8', 'https://lichess.org/training/LSfZw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LSHsQ', 'Rapid', 'Pobrelouco', 1767, 'stupstup1', 1766, 'e4,c5,Nf3,e6,c3,Nc6,d4,cxd4,cxd4,Bb4+,Bd2,Qb6,a3,Be7,Bc3,Nf6,Bd3,d5,Nbd2,dxe4,Nxe4,O-O,Qc2,h6,O-O,Nd5,Bd2,Nxd4,Nxd4,Qxd4,Rad1,Qb6,Nc3,Rd8,Nxd5,Rxd5,Bc3,Qd8,Be4,Rxd1,Rxd1,Qc7', 'Bh7+,Kf8,Bxg7+,Kxg7,Qxc7', 'https://lichess.org/training/LSHsQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lSI5R', 'Blitz', 'I_INDEAD', 1662, 'siddhant_khetan', 1655, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Bg5,Bf5,Nf3,Nc6,e3,e6,Bb5,Qd7,Ne5,Qc7,Bxf6,gxf6,Nxc6,bxc6,Bd3,Bg6,O-O,Bg7,h4,O-O,h5,Bxd3,Qxd3,e5,f3,Rae8,Kf2,e4,fxe4,dxe4,Nxe4,f5,Ng3,f4,exf4', 'Qxf4+,Kg1,Bxd4+,Qxd4,Qxd4+', 'https://lichess.org/training/lSI5R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LsIb9', 'Rapid', 'mn_tiger', 2043, 'Presiden', 2048, 'e4,d6,d4,g6,Nc3,Bg7,Nf3,a6,Be3,Nc6,Be2,e5,Qd2,Bg4,dxe5,Bxf3,gxf3,Nxe5,f4,Nc6,O-O-O,Nge7,Rhg1,b5,f5,Qd7,Nd5,Nxd5,Qxd5,Rd8,fxg6,hxg6,Bg4,f5,exf5,Ne7,Qe6,Qxe6,fxe6,Rxh2,Rh1,Rxh1,Rxh1,Nf5,Bxf5,gxf5,Bg5,Rb8,Rh7,Kf8,f4,Kg8,Rh3,Re8,e7,Kf7,c3,Kg6,Kc2,a5,Re3,Bf6', 'Re6,Kf7,Rxf6+', 'https://lichess.org/training/LsIb9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LSiVl', 'Blitz', 'Mosya', 1707, 'AndreyTri', 1669, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bb4,a3,Bxc3,bxc3,Nxe4,O-O,d5,Bb3,O-O,Re1,Bg4,h3,Bh5,Bb2,Ng5,g4,Nxh3+,Kg2,Nf4+,Kg3,Bg6,Nxe5,Ne6,Nxg6,hxg6,Qf3,Qd6+,Kg2,Nf4+,Kf1,g5,Re3,Ne5,Qg3,c5,Rae1,Rfe8,d4,Qa6+,Kg1,c4,Ba2,f6,dxe5,fxe5,Rxe5,Rxe5,Rxe5,Qf6,Re1,Kf7,Qf3,Rh8,Bc1,Rh3,Qd1,Qh6,Bxf4', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/LSiVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lSKUR', 'Classical', 'tcmonster', 1857, 'raf1025', 1736, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Nc3,Bb4,Qe2,Bb7,O-O,Bxc3,bxc3,d5,exd5,O-O,dxc6,Bxc6,Qxe5,Re8,Qg3,Re4,Bh6,Rg4,Rad1,Qf8,Be3,Rxg3,fxg3,h6,Bd4,Rd8,Rf4,Qe7,Rdf1,Rf8,h3,Bd5,Bxf6,gxf6,Bxd5,Qc5+,Rd4,Qxc3,Rc4,Qxg3', 'Rg4+,Qxg4,hxg4', 'https://lichess.org/training/lSKUR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lsMo0', 'Classical', 'elevatorcable', 2026, 'RobbyR', 2006, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c6,e3,Nbd7,Bd3,Bd6,O-O,O-O,e4,dxc4,Bxc4,e5,Bg5,Qe7,Re1,exd4,Nxd4,Nb6,Nf5,Bxf5,exf5,Qc7,Bxf6,gxf6,Bb3,Bxh2+,Kh1,Be5,Re4,Kh8,Qh5,Rg8,Bxf7', 'Rg5,Qe2,Qxf7', 'https://lichess.org/training/lsMo0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lSMpi', 'Rapid', 'DVIshan18907', 1819, 'jzisbadatchess', 1890, 'd4,d5,Bf4,Nf6,Nf3,c5,e3,e6,c3,cxd4,exd4,Nc6,Bd3,Bd6,Bg3,O-O,Bxd6,Qxd6,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,Re1,Qd6,Nd2,b6,Nf3,Bb7,Nh4,Qc6,f3,Rad8,Nf5,Rfe8,Ne7+', 'Rxe7,Rxe7,Qc5+,Kh1,Qxe7', 'https://lichess.org/training/lSMpi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LsOmW', 'Classical', 'Edson16103', 2016, 'ks53', 1998, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,Bxc5,Qxd5,Qb6,Ne4,Qa5+,Qd2,Bb4,c3,Be7,Nd6+,Bxd6,Qxd6,Ne7,Be2,Nbc6,b4,Qf5,b5,Ne5,Ba3,N5g6,Nf3,O-O,Nd4,Qg5,Qg3,Qd5,Bf3,Qc4,Bb2,Re8,Be2,Nd5,O-O,Rxe2,Nxe2,Qxe2,Rae1,Qxb2', 'Re8+,Nf8,Qd6', 'https://lichess.org/training/LsOmW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LSpYr', 'Blitz', 'angrandi', 1571, 'Clegux', 1600, 'e4,e6,Nf3,d5,e5,c5,c3,Ne7,d4,Nf5,Bd3,cxd4,cxd4,Bb4+,Nc3,O-O,O-O,Qb6,a3,Be7,Bxf5,exf5,Nxd5,Qd8,Nf4,Nc6,Be3,b6,Qb3,Be6,Nxe6,fxe6,Qxe6+,Kh8,Qxc6,Rc8,Qb7,Rc7,Qa6,f4,Bd2,h6,Bc3,Bg5,Nxg5,Qxg5,Bd2,Qg4,h3,Qg6,Bb4,f3,g3,Rf4,Kh2,Rh4,Rg1', 'Rxh3+,Kxh3,Qh5#', 'https://lichess.org/training/LSpYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LSsNs', 'Classical', 'die_Zwiebel', 1930, 'Dildo3000', 1911, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,Bg5,c6,h3,Rb8,Qf3,Bd6,b3,Be5,Bd2,Qd6,Rae1,Rb7,Ne2,Re7,Bf4,Rfe8,Bg5,h6,Bh4,g6,Ng3,g5,Bxg5,hxg5,Nf5,Bxf5,Qxf5,Ne4,Bxe4,dxe4,Qxg5+,Kf8,Rd1,Qe6,Rfe1,f5,h4,Bc7,h5,Rg7,Qh4,Rg4,Qh3,Qh6,Rd7,Qf4,h6,Rh4,Qc3,Rh1+,Kxh1', 'Qh2#', 'https://lichess.org/training/LSsNs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LSU3p', 'Rapid', 'abomhmood', 2084, 'Iraq3000', 2034, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,g6,Bg2,Bg7,c3,Nge7,O-O,b6,Rb1,Bb7,Qe2,O-O,Nb3,dxe4,dxe4,Qc7,Bf4,e5,Be3,Rad8,Rbd1,Kh8,Nfd2,Nb8,f4,exf4,Bxf4,Qc8,Nc4,Ba6,Nbd2,Rfe8,Bxb8,Qxb8,Rxf7,Nc6,Qf2', 'Bxc4,Nxc4,Rxd1+', 'https://lichess.org/training/LSU3p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lsV9R', 'Rapid', 'JC2theL', 1691, 'Jogonate', 1705, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nc3,a6,Bxc6,bxc6,O-O,c5,Nf3,g6,e5,dxe5,Nxe5,Nf6,Bg5,Bg7,Nxd7,Qxd7,Qf3,O-O,Rfe1,Rfe8,Rad1,Qc7,Bxf6,Bxf6,Nd5,Qa5,Nxe7+,Bxe7,Rxe7,Rxe7,Qxa8+,Kg7,c3,Qxa2,b4,cxb4,cxb4,Qa4,Qf3,Qxb4,g4,a5,g5,a4', 'Qf6+,Kg8,Rd8+,Re8,Rxe8+', 'https://lichess.org/training/lsV9R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LsvuI', 'Classical', 'MuhammadDrbala', 1774, 'Richiemedina', 1919, 'b4,e5,Bb2,f6,b5,d5,e3,Bf5,a4,a6,h4,axb5,g4,Be6,axb5,Rxa1,Bxa1,Bd6,d4,e4,Nd2,Qd7,g5,Bg4,Qb1,fxg5,hxg5,Ne7,b6,c6,c4,O-O,f4,Ng6,Ne2,Na6,c5,Be7,Bc3,Bxe2', 'Bxe2,Nxc5,dxc5', 'https://lichess.org/training/LsvuI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LSW3F', 'Classical', 'Fandhor', 1695, 'RyanTurtle', 1632, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,c4,Qb6,Nb5,Qd8,N1c3,a6,Qa4,d6,Nd5,axb5,Qxa8,Bxb2,Bb6,Qd7,Nc7+,Kf8,Rb1,Bd4,Nd5,e6,Bxd4,exd5,Bxh8,dxe4,cxb5,Ne5,b6,Ne7,Bb5,Qf5,O-O,Qg5,Bxe5,Qxe5,Rfe1,Kg7,f4,Qxf4,g3,Qe5,Rb4', 'Qc5+,Kg2,Qxb4', 'https://lichess.org/training/LSW3F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LSwJu', 'Blitz', 'kiko77', 1866, 'giannimekk', 1982, 'e4,c6,Nc3,d5,exd5,cxd5,d3,e5,Nf3,Bg4,Be2,Bd6,Bg5,Qa5,Bd2,Qb6,Nxd5,Qxb2,Rb1,Qxa2,Rxb7,Nc6,Nc7+,Bxc7,Rxc7,Nge7,O-O,O-O,Nxe5,Bxe2,Qxe2,Qd5,Nxc6,Nxc6,c4,Qd6,Rb7,Nd4,Qg4,Rfe8,Rd7,Qe5,Rxd4,f5,Qf4,g6,Rd5,Qe2,Bb4,Rab8,Bc5', 'Qxf1+,Kxf1,Rb1+,Qc1,Rxc1#', 'https://lichess.org/training/LSwJu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lSwm9', 'Rapid', 'The_new_alfa2z', 1815, 'the_italian_engineer', 1678, 'e4,e5,f4,d5,exd5,Bf5,fxe5', 'Qh4+,g3,Qe4+,Qe2,Qxh1', 'https://lichess.org/training/lSwm9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lSwO6', 'Rapid', 'WonPajacu', 1961, 'DISTROYER', 2013, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Nc6,Nc3,Nf6,Bg5,Be7,f3,O-O,Qd2,a5,O-O-O,a4,a3,d5,Nxc6,bxc6,e5,Nd7,Bxe7,Qxe7,h4,Nb6,g4,Ba6,f4,Bxf1,Rdxf1,Nc4,Qd4,Rfb8,Nd1,Rb7,Rf2,Rab8,c3,c5,Qd3,Na5,g5,c4,Qg3,Rb3,Rhh2,d4,h5,dxc3,Nxc3,Rxc3+,Qxc3,Nb3+,Kb1,Qc5,g6,Rd8,gxf7+,Kxf7,Qe1,Qd4,f5,Qd1+,Qxd1,Rxd1+,Kc2', 'Rc1#', 'https://lichess.org/training/lSwO6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LSxht', 'Rapid', 'Roni1986', 1563, 'mreyn', 1543, 'e4,d5,exd5,Nf6,c4,a6,Nc3,Bd7,d3,b5,a3,bxc4,dxc4,e6,Bg5,exd5,Nxd5,c6,Qe2+,Be6,Nf4,Qa5+,Kd1,Qxg5,Nxe6,fxe6,Qxe6+,Be7,Nf3,Qc5,Bd3,Qd6,Qe3,O-O,Kc2,Nbd7,Rhe1,Rfe8,Rad1,Qc7,Qe6+,Kh8,Ng5,Nc5,Nf7+,Kg8,Nh6+,Kh8,Nf7+,Kg8', 'Nh6+,Kh8,Qg8+,Rxg8,Nf7#', 'https://lichess.org/training/LSxht');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lsyVK', 'Blitz', 'coachcatur', 1976, 'kratos82', 1685, 'e4,e5,Nf3,d6,Bc4,Nf6,d4,Bg4,O-O,Bxf3,Qxf3,Be7,Nc3,O-O,Bg5,Nc6,Rad1,Nxd4,Rxd4,exd4,Nb5,c5,Qg3,a6,Na3,b5,Bd5,Nxd5,Bh6,Bf6,exd5,b4,Nb1,Qe7,Nd2,Qe5,Qg4,Qxd5,Ne4,Qe6,Nxf6+,Qxf6,Bf4,Rae8,h4,Re4,g3,Rfe8,Kg2,Qd8,Rh1,Qa8,f3,Re2+,Kh3,R8e6,h5,Qd5,h6,Rxh6+,Bxh6,Qe5,Qc8+,Qe8,Qg4,g6,Bg5,Rf2,Bh6,Rxc2,Qf4,d3,Qf6,Qe5', 'Qd8+,Qe8,Qxe8#', 'https://lichess.org/training/lsyVK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lSZ9N', 'Classical', 'Holopov', 1970, 'Weapon_Lex', 1919, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bg4,O-O,e6,Be3,Ne7,c3,Nf5,Nbd2,Bd6,Qa4,Qc7,h3,Bh5,g4,Nxe3,fxe3,Bg6,Bxc6+,Qxc6,Qxc6+,bxc6,Ne5,Bxe5,dxe5,O-O,h4,h5,g5,Rab8,b3,a5,Rf4,Ra8,Rc1,a4,bxa4,Ra5,Nb3,Ra7,Nc5,Rfa8,Rb4,Ra5,Nb7,Rxa4,Rxa4,Rxa4,Nd8,Rxh4,Nxc6,Rg4+,Kf2,Ra4,Ra1,h4,Nd4,Bd3,Kg2,Ra3,Kh3,Rxc3,Kxh4,Ba6,a4,Rxe3,Nc6,Bb7,Nd8,Bc8,a5,Ba6,Nc6,Rb3,Rc1,Ra3,Rc5,Ra4+,Kg3,d4,Nb8,Bb7,Rb5,Bd5,a6,d3,Rb2,Rc4,Rd2,Be4,Kf4,Bf5+,Ke3,Rc2,a7,Rxd2,a8=Q,Rd1,Nc6+,Kh7,Ne7,Re1+,Kf2,Re2+,Kf3', 'Be4+,Qxe4+,Rxe4,Kxe4,d2', 'https://lichess.org/training/lSZ9N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lT0px', 'Rapid', 'feb82', 1784, 'Decky84', 1897, 'e4,e5,Nf3,Nc6,g3,Bc5,Bg2,a6,O-O,h6,d3,d6,Re1,Nf6,c3,Bg4,Be3,Bxe3,Rxe3,O-O,Nbd2,d5,Nf1,d4,cxd4,exd4,Re1,Ne5,Qe2,c5,b3,b5,N1d2,Qa5,Qf1,Nxf3+,Nxf3,Qc3,Ne5,Be6,Nf3,a5,Nh4,a4,e5,Nd5,bxa4,Rxa4,Rec1,Qa3,Rcb1,Nc3,Rc1,Qb2,Kh1,Bxa2,Nf5,b4,Nd6,b3,Nc4,Qe2,Qxe2,Nxe2,Re1,Nc3,Nb2,Ra7,e6,fxe6,Rxe6,Rxf2,Nc4,Nb1,Kg1,Raf7,Bd5,Rf1+,Kg2,R7f2+,Kh3,Kf8,Nd6,g5,Re8+,Kg7,Rg8+,Kf6,Ne4+,Ke5,Nxf2,Kxd5,Ne4,Rf3,Rd8+,Kc6,Rc8+,Kb6,Nxc5,Nc3,Ne6,Kb7,Rc4,Rxd3', 'Nc5+,Kc6,Nxd3+', 'https://lichess.org/training/lT0px');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LT2SX', 'Blitz', 'bahodirjumaev', 1631, 'Mishmee', 1643, 'e4,e6,d4,d5,e5,c5,dxc5,Nc6,Nf3,Bxc5,Nc3,Qc7,Bd3,Nxe5,Nxe5,Qxe5+,Be3,Bxe3,fxe3,Qxe3+,Ne2,Nf6,Rf1,O-O,Rf3,Qg5,Ng3,e5,Be2,Bg4,Rb3,Bxe2,Qxe2,b6,Re3,e4,O-O-O,d4,Rxd4,Rad8,Nxe4,Nxe4,Rxe4,h6,Kb1,Qa5,Re5,Qb4,Qh5,Qd2,b3,Qxg2,Rg3,Qf1+,Kb2,Qf6,Kb1,Rd1+,Kb2,Rfd8,Ka3,Qd6+,b4,a5,Re4,axb4+,Kb3,Ra8,Rxg7+,Kxg7,Rg4+,Kh7', 'Qxf7+,Kh8,Qg7#', 'https://lichess.org/training/LT2SX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lT6bL', 'Blitz', 'Flamingonegro', 1955, 'BackRankSpank', 1892, 'd4,f5,Nf3,e6,h4,Nf6,c3,d6,h5,Nc6,h6,g6,Bg5,Be7,Qb3,Ne4,Bxe7,Qxe7,Nbd2,Nxd2,Kxd2,e5,e3,Bd7,Re1,O-O-O,a4,e4,Nh4,g5,Bb5,gxh4,Bxc6,Bxc6,d5,Bd7,c4,Rhg8,a5,Rxg2,Re2,Qg5,Qc3,Rg8,b4,Qxh6,b5,Qg7,Qb3,f4,b6,cxb6,axb6,a6,Rc1,fxe3+,Rxe3,Qd4+,Kc2,Rxf2+,Kb1,Rgg2,Rec3,Qc5,Re1,Rf3,Ka1,Rd3,Rf1,Qa5+,Kb1,Qxc3', 'Rf8+,Be8,Rxe8+,Kd7,Qa4#', 'https://lichess.org/training/lT6bL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lt8Tb', 'Blitz', 'Tarang007', 1506, 'vergaraleuman', 1501, 'e4,e6,Nf3,Nf6,e5,Nd5,c4,Nb4,a3,N4c6,b4,d6,b5,Ne7,exd6,cxd6,d4,d5,cxd5,Qxd5,Nc3,Qd8,Bd3,h6,Bb2,b6,Be4,Nd5,Nxd5,exd5,Bd3,Bb7,O-O,Be7,Ne5,O-O,Qf3,Nd7,Qf5,Nf6,Ng4,Bc8', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/lt8Tb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lt9CD', 'Rapid', 'Zelko66', 1623, 'sickingen', 2094, 'e4,c5,Bc4,d6,Qf3,Nf6,Nc3,Nc6,Bb3,e6,Nge2,Be7,d3,O-O,Qg3,a6,h3,b5,Bh6,Ne8,O-O,Nd4,Nxd4,cxd4,Ne2,e5,c3,dxc3,Nxc3,Kh8,Be3,f5,exf5,Bxf5,d4,Bd3,Rfd1,e4,Bd5,Bh4,Qg4,Rc8,Bxe4,Bxe4,Qxe4,Qf6,Rf1,Nc7,a3,a5,Nd5,Nxd5,Qxd5,Rc2,g3,Qg6,Qxb5', 'Bxg3,Qb7,Bxf2+', 'https://lichess.org/training/lt9CD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lTa8j', 'Classical', 'dkattir', 1893, 'bebano', 1841, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,d4,exd4,Nxd4,Be7,Bd2,O-O,f3,Bd7,Qe2,a6,O-O,Nc6,Nxc6,Bxc6,Rad1,Qc8,Nd5,Nxd5,exd5,Bd7,Qxe7,Re8,Qh4,b5,Bd3,Bf5,Qg3,Kh8,Rfe1,Bxd3,cxd3,Qf5,Rxe8+,Rxe8,Bc3,f6,a3,Qxd5,f4,Re2,Re1,Rxe1+,Bxe1,Qd4+,Qf2,Qxd3,Bc3,c5,Qd2,Qf5,Qxd6,a5,Qb8+,Kh7,Qxb5,Qxf4,Qxc5,a4,g3,Qc1+,Kg2,Qc2+,Kh3,Qe4,Qd4,Qc6,Qd3+,Kh8,Qf5,Kg8,Kh4,Qc4+,Qf4', 'g5+,Kh3,gxf4', 'https://lichess.org/training/lTa8j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lTb5d', 'Rapid', 'Dieg', 1868, 'ashloopyx', 1810, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,e6,O-O,a6,d4,cxd4,Qxd4,Nc6,Qd1,Qc7,Bf4,e5,Bg5,Be7,Bxf6,Bxf6,Nd5,Qd8,Nxf6+,Qxf6,h3,O-O,Nh2,Be6,Be2,Rfd8,Ng4,Qe7,f4,exf4,Rxf4,Rac8,a3,Ne5,Qe1,Nxg4,Bxg4,Bxg4,Rxg4,f6,Qg3,Rxc2', 'Qb3+,Kh8,Qxc2', 'https://lichess.org/training/lTb5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LTB8l', 'Blitz', 'WHINGFOOFANG', 2476, 'FM ElAdversario', 2540, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,dxc4,a4,Bf5,Ne5,Na6,f3,Nd7,Nxc4,e5,e4,exd4,exf5,dxc3,bxc3,Bc5,Nd6+,Bxd6,Qxd6,Nac5,Bc4', 'Qh4+,g3,Qxc4', 'https://lichess.org/training/LTB8l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LTCDK', 'Blitz', 'Aktinyus', 1659, 'ArjunaS', 1689, 'd4,b6,g3,Bb7,Nf3,g6,Bg2,Bg7,O-O,Nc6,c4,Na5,b3,Nf6,Bb2,O-O,Nc3,c6,Rb1,Bc8,Qc2,e6,Rfd1,d5,cxd5,cxd5,e4,Bb7,exd5,Nxd5,Nxd5,Bxd5,Ne5,Bxg2,Kxg2,Rc8,Qe2,Nc6,Nxc6,Rxc6,Qe4,Rd6,Ba3,Rd5,Bxf8,Bxf8,Rbc1,Ba3,Rc2,Bf8,Rcd2,Bg7,Rd3,Qd7,Qe1,Qb5,Qe2,Qc6,a4,Rxd4+,Kf1,Rb4,Rd8+,Bf8,Qb2,Qh1+,Ke2,Qxh2,Rxf8+,Kxf8', 'Qh8+,Ke7,Qd8#', 'https://lichess.org/training/LTCDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ltcHS', 'Rapid', 'cyrilnaves', 1627, 'Jilano06', 1654, 'd4,d5,c4,dxc4,e4,c5,Nf3,Nc6,Be3,Nf6,Nc3,cxd4,Bxd4,Nxd4,Nxd4,e6,Bxc4,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/ltcHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ltDhq', 'Rapid', 'EbonowySzyderca', 1759, 'Silent-B0B', 1658, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Nc3,Be7,d4,Nxd4,Nxd4,exd4,Qxd4,c5,Qd3,O-O,Qg3,Nh5,Qg4,Nf6,Qg3,Nh5,Qg4,Nf6,Qf3,d6,Be2,Bg4,Qd3,Bxe2,Qxe2,Nh7,Nd5,Bg5,Rd1,Bxc1,Raxc1,b6,e5,dxe5,Qxe5,Re8,Qg3,Ng5,Qf4,Ne6,Qf3,Nd4,Rxd4,cxd4,Rd1,Qg5,Kf1,Rad8,Rxd4,Qc1+,Rd1,Qxc2,b3,Re6,Qd3,Qxa2', 'Ne7+,Rxe7,Qxd8+,Kh7,Qxe7', 'https://lichess.org/training/ltDhq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lTdO3', 'Rapid', 'luis1505', 1852, 'vld51', 2059, 'e4,c5,f4,d5,e5,Bf5,Nf3,e6,d3,Nc6,Be2,h6,O-O,Nge7,c3,d4,Bd2,Bg4,cxd4,Bxf3,Bxf3,cxd4,Na3,Nd5,Nc4,b5,Nd6+,Bxd6,exd6,Qxd6,Rc1,O-O,Be4,Rac8,f5,Ne3,Qh5,exf5,Bxf5,Nxf5,Qxf5,Ne7,Qg4,Rxc1,Rxc1,Nd5,a3,Ne3,Qh5,Rb8,Ba5,Qf4', 'Bc7,Rc8,Bxf4,Rxc1+,Kf2', 'https://lichess.org/training/lTdO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ltfLY', 'Rapid', 'jankertspv2', 1778, 'KirillG', 1738, 'c4,e5,e3,Bc5,a3,a6,b4,Ba7,Bb2,d6,Qc2,Nf6,d3,Bf5,Nd2,O-O,Ne2,Nbd7,Ng3,Bg6,Be2,d5,cxd5,Nxd5,Nc4,f6,Bf3,c6,Qb3,Kh8,O-O,Bf7,Qc2,b5,Na5,Bxe3,Qxc6,Nb8,Qxa8,Bb6,Bxd5', 'Bxd5,Qxd5,Qxd5', 'https://lichess.org/training/ltfLY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ltFVA', 'Rapid', 'fbbb84', 1617, 'nuran', 1683, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,Nc6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,Re1,Be7,d4,exd4,Nxd4,Bd7,Nd5,Nxd5,exd5,O-O,Re3,b6,Nc6,Bxc6,dxc6,b5,b4,a5,c3,axb4,cxb4,Ra6,Qd5,Kh8,Bb2,f6,Qxb5,Rb6,Qc4,d5,Qd4,Rxb4,Qc3', 'd4,Qxb4,Bxb4', 'https://lichess.org/training/ltFVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lTghZ', 'Classical', 'Vikram16', 1854, 'mechessme', 1832, 'e4,e6,d4,d5,e5,c5,c3,Nc6,dxc5,Nxe5,Nf3,Nxf3+,Qxf3,Bxc5,Bb5+,Bd7,Bxd7+,Qxd7,Bg5,h6,Bf4,Qb5,b4,Rc8,bxc5,Qb2,Qe2,Qxa1,O-O,Rxc5,Be5,Ra5,Bxg7,Rh7,Na3,Qxf1+,Qxf1,Rxg7,Nc2,Rxa2,Qb5+,Kf8,Qb4+,Ke8,Qb5+,Kf8,Qc5+,Ne7,Ne1,Ra1,Qe3,Nf5,Qe5,Kg8,Kf1,Rg4,f3,Rg5,Qb8+,Kg7,Qxb7,Nh4,c4,Nxg2', 'Qb2+,Kg6,Qxa1', 'https://lichess.org/training/lTghZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ltId9', 'Blitz', 'Alexis-capablanca', 1965, 'benyaminpraid', 2020, 'c4,e6,e4,d5,cxd5,exd5,e5,Nc6,d4,Be6,Bb5,Bb4+,Bd2,Bxd2+,Nxd2,Ne7,Nb3,a6,Bxc6+,Nxc6,Nc5,Rb8,Nf3,O-O,O-O,h6,h3,Qc8,Kh2,f6,Nxe6,Qxe6,Re1,fxe5,Nxe5,Nxe5,Rxe5,Qf6,Qe2,c6,Rf1,Qf4+,g3,Qxd4,Re7,Qf6,f4,d4,Re1,c5,Qc4+,Kh8,Rc7,b6,Ree7,Rg8,Qxa6,Qf5,Qe2,d3,Qe3,Rbd8,g4,Qd5,f5,d2', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/ltId9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ltjDS', 'Blitz', 'FM Saaker', 2595, 'fighter2005', 2380, 'd4,f5,c4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,Nc3,Qe8,Bg5,Nbd7,Qc2,c6,Rfe1,e5,e4,f4,Rad1,h6,Bxf6,Nxf6,c5,exd4,Rxd4,dxc5,Rdd1,g5,e5,Nh5,Ne4,Bg4,h3,Bxf3,Bxf3,fxg3,Qb3+,Kh8,fxg3,c4,Qe3,Qg6,Rd6,Qf7,Bxh5,Qxh5,Nf6,Qxh3,Nd7,Rfe8,Rf1,Re7,Nf6,Rf8,Rf3,g4,Rf2,Bxf6,Rdxf6,Rxf6,Rxf6,Kg7,Rf5,Rf7,Rxf7+,Kxf7,Qf4+,Ke6', 'Qf6+,Kd5,Qd6+,Ke4,e6', 'https://lichess.org/training/ltjDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LtmcD', 'Blitz', 'iran-soldier', 1827, 'Turaputo', 2388, 'e4,Nc6,Nf3,d5,exd5,Qxd5,d4,Bg4,Nc3,Qh5,Be2,O-O-O,Be3,e5,h3,exd4,Nxd4,Bxe2,Ncxe2,Nf6,c3,Nxd4,Nxd4,Qxd1+,Rxd1,Bc5,O-O,Bxd4,Rxd4,a6,Rfd1,Rxd4,Rxd4,Rd8,Rxd8+,Kxd8,Bd4,Ke7,f3,Ke6,Kf2,Ne8,g4,g6,h4,f5,Ke3,Nd6,b3,b5,Kf4,fxg4,fxg4,Nb7,b4,Nd6,Be5,h6,Bxd6,cxd6,Ke4,d5+,Kd4,Kd6,g5,hxg5,hxg5,Ke6,Kd3,Ke5,Ke3,Ke6,Kf4,Kd6,Ke3,Ke5,Kd3,Kf5,Kd4,Kxg5,Kxd5,Kf4,c4,g5', 'c5,g4,c6,g3,c7,g2,c8=Q', 'https://lichess.org/training/LtmcD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LtP6L', 'Rapid', 'abdelrahmanhossam99', 1691, 'mohmahkho', 1704, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,Ne5,c5,Bg5,cxd4,Bxf6,gxf6', 'Bb5+,Nc6,Nxc6', 'https://lichess.org/training/LtP6L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LTpDu', 'Rapid', 'donetsk1983', 1751, 'ivko73', 1826, 'e4,g6,Nf3,Bg7,d4,c5,dxc5,Qa5+,c3,Qxc5,Bd2,d6,Be2,Nf6,O-O,Nxe4', 'Qa4+,Nc6,Qxe4', 'https://lichess.org/training/LTpDu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ltpIZ', 'Blitz', 'MaxStranger7', 1978, 'timson33', 1960, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bd3,b6,O-O,Bb7,Nc3,Be7,Nf5,Nbd7,Nxe7,Qxe7,Bg5,h6,Bh4,g5,Bg3,h5,h3,h4,Bh2,g4,hxg4,h3,g3,O-O-O,Nb5,Kb8,Nd4,Rdg8,Nf5,Qe5,f3,Qc5+,Kh1,Ne5,Bg1,Qb4,b3,h2,Bf2,Qa5,a3,Nxd3,Qxd3,Ba6,Qd4,Bxf1,Qxf6,Be2,Ne7,Bxf3+,Qxf3,Re8,Nd5,Kb7,Re1,Rhf8,Nf6,Re6,Nd7,Rfe8,e5+,d5,b4,Qb5,Nf6,R8e7,Nxd5,Rd7,Ne7+,Ka6,Nf5,Qc4,Nd4,Rxd4,Bxd4,Qxd4,b5+,Kxb5,c3,Qc5,Rb1+,Ka6,Qe2+,Kb7,Qe4+,Kc8,Kxh2', 'Qf2+,Qg2,Rh6#', 'https://lichess.org/training/ltpIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lTQUm', 'Blitz', 'CTeplin', 1573, 'hesami', 1536, 'd4,d5,e3,e6,Bd3,Nf6,f4,Nc6,Nf3,Bd7,c3,Qe7,b4,O-O-O,Nbd2,h6,O-O,Nh7,a4,g5,fxg5,Nxg5,b5,Na5,Ba3,Qe8,Bxf8,Qxf8,Nb3,Nxb3,Qxb3,Nxf3+,Rxf3,f5,a5,Rg8,b6,Qg7,g3,cxb6,axb6,a6,Bxa6,bxa6,Rxa6,Bc6,Ra7,Bb7,Qb5,Rd7,Rxb7,Rxb7,Qa6,Kd8,Qa8+,Ke7,Qxb7+,Kf6,Qa6,h5,b7,h4,Qa7,hxg3,Rxg3,Qh8,Rxg8,Qxg8+,Kh1,Qg4,Qa1,Qf3+,Kg1,Qxe3+,Kf1,Qd3+,Ke1,Qb5,Qa7,Qb1+,Kd2,Qb2+,Kd3,Qb1+,Kd2,Qb2+,Kd1,Qb1+,Ke2,Qb5+,Kd2,Qb2+,Kd3,Qb5+,c4,Qxc4+,Ke3,Qb3+,Kf4,Qd1,b8=Q,Qd2+,Kg3,Qe3+,Kg2,Qe2+,Kh3,Qe3+,Kh4', 'Qg5+,Kh3,Qg4#', 'https://lichess.org/training/lTQUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ltrnP', 'Rapid', 'saharsawitto', 2012, 'Yudhistira-TN', 2037, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,d3,O-O,h3,d6,a4,Be6,Ba2,Bxa2,Rxa2,h6,c3,Nh7,Nh2,Bg5,f4,exf4,Bxf4,f5,exf5,Rxf5,Bxg5,Qxg5,Rxf5,Qxf5,Qf3,Qe6,Ra1,Ng5,Qd1,Qe3+,Kh1,Rf8,Nd2,Rf2,Ndf3,Ne5,Nxe5,dxe5', 'Ng4,Qf4,Nxf2', 'https://lichess.org/training/ltrnP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lTRpp', 'Rapid', 'umaia', 1866, 'valeri099', 1852, 'd4,Nf6,Nc3,d6,e4,g6,Bf4,Bg7,e5,dxe5,Bxe5,Nc6,Nf3,Bg4,Qe2,Nxe5,dxe5,Nd7,O-O-O,O-O,Qe4,Be6,Kb1,Qc8,g4,f5,exf6,Nxf6,Qb4,Nxg4,Rg1,Rxf3,Be2,Bxc3,bxc3,Rxf2,Bxg4,Bxg4,Rxg4,Rxh2,Qc4+,e6,Qf4,Rh5,Rf1,Rf5,Qc4,Rxf1+,Qxf1,Qf8,Qc4,Qe7,Qe4,c6,Qe3,a6,Re4,Re8,Qb6,Rf8,Kb2,Rf5,c4,Qf6+,c3,Rf2+,Kb3,Rf3,Rd4,Qf7,Rd8+,Kg7,Qd4+,Rf6', 'Rd7,Qxd7,Qxd7+', 'https://lichess.org/training/lTRpp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LtRrT', 'Rapid', 'AridayBordon', 1819, 'dimitriy_mix', 1792, 'd4,c5,Nf3,cxd4,Nxd4,g6,Bf4,Bg7,Nb5,d6,N1c3,Nc6,Nd5,Kf8,Qd2,a6,Nbc3,e6,Ne3,Nge7,Bxd6,Kg8,O-O-O,b5,Ne4,Bb7,Nc5,Qb6,Nxb7,Qxb7,g3,b4,Bg2,a5,Bxe7,Qxe7,Bxc6,Rc8,Ba4,Qf6,Qd7,Qxb2+,Kd2,Qc3+,Kc1,Qa1+,Kd2,Qc3+,Kc1,Qb2+,Kd2,Bc3+,Kd3,Kg7,Nc4,Rxc4,Kxc4,Qxa2+,Bb3,Qb2,Rd3,Bf6,Rhd1,Rd8,Qa4', 'Rc8+,Qc6,Rxc6+', 'https://lichess.org/training/LtRrT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ltRv1', 'Rapid', 'RAlex1967', 1877, 'avelpic', 1899, 'd4,d6,e3,Nd7,Nf3,Ngf6,h3,c5,c3,cxd4,cxd4,g6,Bb5,Bg7,Bxd7+,Bxd7,O-O,O-O,Qb3,Bc6,Nfd2,Nh5,Nc3,e5,d5,Bd7,Nce4,Bf5,Qxb7,Rb8,Qxa7,Rb4,Qa3,Rxe4,Nxe4,Bxe4,Qb3,f5,f3,Ng3,fxe4,Nxf1,Kxf1,fxe4+,Kg1,Qf6,Qd1,Qf2+,Kh1,Rc8,Qg1,Qg3,Bd2,Rc2,Bc3,Bh6,Re1,Rf2,Qh2,Qh4,Qg1,Rf5,Rf1', 'Bxe3,Qxe3,Rxf1+', 'https://lichess.org/training/ltRv1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lTSGr', 'Blitz', 'JulioBarajas', 1920, 'maestrull1984', 1830, 'Nf3,d5,d4,e6,e3,c6,Bd3,f5,Ne5,Nf6,f4,Bd6,Nc3,O-O,Bd2,Ne4,Qe2,Nd7,O-O-O,Ndf6,h3,b5,g4,Bxe5,dxe5,Nxc3,Bxc3,Ne4,Be1,a5,gxf5,exf5,h4,Qb6,h5,Be6,Bh4,a4,Rdg1,Kh8,Bxe4,dxe4,h6,g6,Bf6+,Kg8,Rxg6+,hxg6,h7+,Kf7,Qh2,Qxe3+,Kb1,Rh8,Qh6,Bxa2+,Kxa2,a3,Qg7+,Ke6,Qe7+,Kd5,Rd1+,Kc4,Qe6+,Kb4,Be7+,c5,c3+,Ka5,b4+,cxb4', 'Bxb4+,Ka4,Qb3#', 'https://lichess.org/training/lTSGr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LtSk4', 'Rapid', 'v323232', 1893, 'Omsan', 1864, 'd4,d5,Bf4,Nc6,e3,Bf5,Bb5,e6,h3,Bb4+,c3,Ba5,a4,Ne7,Bxc6+,Nxc6,b4,Nxb4,cxb4,Bxb4+,Nd2,c5,dxc5,Qa5,Ne2,O-O,Ra2,Bd3,O-O,Qxc5,Re1,f6,Nd4,e5,N4b3,Qd6,Bg3,Rac8,Qa1,Bc3,Qc1,Qa6,f3,d4,exd4', 'Bxd4+,Nxd4,Rxc1', 'https://lichess.org/training/LtSk4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LTsrG', 'Blitz', 'tanoCureC', 1603, 'Arnaldo-Labarra', 1611, 'e4,e5,f4,exf4,Nf3,Nc6,d4,g5,Bc4,Bg7,c3,d6,O-O,Bg4,h3,Bh5,g4,fxg3,Nxg5,Bxd1,Bxf7+,Kd7,Be6+,Ke7,Rf7+,Ke8,Rxg7,Qf6,Rf7,Qg6,Bf5,Qh5', 'Bd7+,Kd8,Ne6#', 'https://lichess.org/training/LTsrG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LTTt6', 'Rapid', 'Davaro69', 1843, 'drmad', 1948, 'e4,e6,Nf3,Ne7,Bc4,g6,O-O,Bg7,Nc3,b6,Ng5,h6,Nf3,Bb7,d3,a6,h3,b5,Bb3,f5,Be3,fxe4,dxe4,b4,Na4,Bxe4,Nd2,Bd5,Bxd5,Nxd5,c4,Nxe3,fxe3,Qg5,Nf3,Qxe3+,Rf2,O-O,a3,bxa3,Rxa3,Qe4,Nc5,Qc6,Ra5,Qb6,Qa4,Rf5,Nxd7,Nxd7,Rxf5,exf5,Qxd7,c5', 'Qd5+,Kh7,Qxa8', 'https://lichess.org/training/LTTt6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LtWC0', 'Classical', 'ugoen', 1827, 'tbboltonnn', 1820, 'd4,d5,c4,dxc4,Qa4+,c6,Qxc4,Nf6,Qd3,b5,Qd1,e6,e3,Bd6,Nf3,O-O,Bd3,Bb7,O-O,Nbd7,Nc3,Qc7,Bd2,b4,Ne4,c5,Nxd6,Qxd6,Be2,cxd4,Nxd4,a5,b3,Ne5,Rc1,Rac8,Rxc8,Rxc8,Qb1,Ne4,Be1,Nc3,Bxc3,bxc3,Qc2,f5,Rd1,Qe7,f4,Be4,Qc1,c2,Rd2,Ng4,Bxg4,fxg4,g3,Qb4,Rf2,h5,Nxe6,Qe7,Ng5,Rc3,Nxe4,Qxe4,Re2,Qf3,Re1,Qe4,Kf1,Qd3+,Kg1,Qe4,Kf1,Qf3+,Kg1,Rxe3', 'Rxe3,Qd1+,Re1', 'https://lichess.org/training/LtWC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LTwHX', 'Classical', 'souzanegreiros', 1800, 'andre002', 1791, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,Nxe5,Bxf2+,Kf1,Bd4,Nf3,Bg4,c3,Be3,Qb3,Qd3+,Ke1,Bb6,Qxf7+,Kd8,Qxg7,Qxe4+,Kf1,Bxf3,Qf8+,Kd7,Qxf3,Qc2,Na3,Qa4,b3,Qa6+,Nc4,Ne7,Qd3+,Ke8,Ne5,Rf8+,Ke1,Qxd3,Nxd3,Nd5,Ba3,Rf6,Kd1,a5,Kc2,a4,Rae1+,Kf7,c4,axb3+,Kxb3,Rxa3+,Kxa3,Ne7,Ne5+,Kg7,Rhf1,Bc5+,Kb3,Re6,Rf7+,Kh6,Ng4+,Kg6,Rxe7,Rxe7,Rxe7,Bxe7,Ne5+,Kf5,d4,c5,Kc3', 'cxd4+,Kxd4,Bf6', 'https://lichess.org/training/LTwHX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ltWp4', 'Blitz', 'FM Sznureks', 2195, 'c0mpl3x', 2190, 'e3,c5,d4,Nf6,Nf3,d5,dxc5,e6,b4,a5,c3,b6,cxb6,Qxb6,b5,a4,Ba3,Bxa3,Nxa3,Qc5,Qc1,O-O,Bd3,Nbd7,O-O,Nb6,Rb1,Nfd7,c4,Bb7,cxd5,Qxd5,Rd1,Rfc8,Qb2,Qh5,Be2,Be4,Rbc1,Rxc1,Rxc1,Qd5,Qd2', 'Bxf3,Qxd5,Bxd5', 'https://lichess.org/training/ltWp4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LTWZg', 'Classical', 'catmyledy', 1754, 'Tarantul78', 1720, 'e4,c5,Bc4,e6,h3,d6,Nf3,Nf6,e5,dxe5,Nxe5,Bd6,Ng4,a6,a4,Nc6,c3,O-O,d3,h6,O-O,Nxg4,Qxg4,Ne5,Qh5,Nxc4,dxc4,Qf6,f4,b6,Be3,Bb7,Nd2,Qg6,Qe2,Rad8,Rf2,f5,Nf3,Qg3,Kh1,Rfe8,Rg1,Bxf4,Bxf4,Qxf4,Ne5,Qg5,Kh2,Rd6,Nf3,Bxf3,gxf3,Qf6,Rfg2,Rd7,f4,Red8,Qh5,Kh7,Qf3,Rc7,Qe3,Rd6,Rg6,Qf7,Rxg7+,Qxg7,Rxg7+,Kxg7', 'Qe5+,Kf7,Qxd6', 'https://lichess.org/training/LTWZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LTxAI', 'Blitz', 'ACHERRAT', 1769, 'JobbyFisher', 1694, 'e4,e5,f4,d5,exd5,e4,Bb5+,Bd7,Qe2,Bxb5,Qxb5+,Nd7,Qxb7,Rb8,Qxa7,Bc5,Qa4,Nf6,c4,O-O,Ne2,Nb6,Qc2,Re8,Nbc3,e3,dxe3,Bxe3,Bxe3,Rxe3,O-O,Nxc4,b3,Nd6,Rad1,Nfe4,Nxe4,Rxe4,Nc3,Re3,Rd3,Qe7,Rxe3,Qxe3+,Kh1,Re8,Nd1,Qxf4,Kg1,Qd4+,Qf2,Qxf2+,Rxf2,Re1+,Rf1,Re2,Nc3,Rc2,Rf3,g6,a4,Rb2,Nb5,Nxb5,axb5,Kf8,Rc3,Ke7,Rxc7+,Kd6,Rxf7,h5,Rf6+,Kxd5,Rxg6,Kc5,Rg5+,Kb6,Rxh5,Rxb3,Rg5,Rb1+,Kf2,Rb2+,Kg3,Rb3+,Kh4,Kc7,Kh5,Kd7,h4,Ke6,Kh6,Kf7,h5,Kf8,Kh7,Ra3,b6,Ra8,Rg6,Ke7,b7,Rb8,h6,Kf7,Rg7+,Kf6,Rc7,Rf8,Rc8,Rf7+,Kh8,Rxb7,Rf8+,Kg6,Rf1', 'Rb8+,Rf8,Rxf8#', 'https://lichess.org/training/LTxAI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lTxat', 'Rapid', 'David--888', 1654, 'onryr', 1638, 'd4,Nf6,Nc3,d5,Bg5,e6,e4,dxe4,Nxe4,Be7,Bxf6,Bxf6,Nf3,O-O,Bd3,Nc6,c3,e5,O-O,exd4,cxd4,Nxd4,Nxd4,Bxd4,Qh5,Bxb2,Nc5,h6,Rad1,Bd4,Nb3,Qg5', 'Qxg5,hxg5,Nxd4', 'https://lichess.org/training/lTxat');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ltYFE', 'Rapid', 'davlethan', 1973, 'momo_klaus', 1995, 'e4,e5,d4,exd4,c3,Qe7,Qxd4,Nc6,Qe3,Nf6,Nd2,d5,Bd3,dxe4,Nxe4,Nxe4,Bxe4,Bd7,Nf3,O-O-O,O-O,Re8,Re1,Qf6,Qd3,Rd8,Bg5,Ne5,Bxf6,Nxd3,Bxd8,Nxe1,Bxc7', 'Nxf3+,Bxf3,Kxc7', 'https://lichess.org/training/ltYFE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LTykV', 'Blitz', 'Meqqit', 1817, 'Roman_Zhadik', 1808, 'b3,g6,Bb2,f6,e4,e6,d3,Bg7,Nd2,Ne7,Be2,O-O,Ngf3,b6,c4,Bb7,O-O,d5,e5,Nd7,d4,f5,Ng5,Rf6,exf6,Nxf6,Nxe6,Qd7,Nxg7,Kxg7,Nf3,c6,Ne5,Qd6,a4,Re8,Ba3,Qe6,Re1,Nc8,Bd3,Nd6,Qd2,Nde4,Qf4,g5,Qc1,f4,Qb2,Ng4,f3,Nxe5,fxe4,Nxd3,exd5', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/LTykV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LtYWr', 'Rapid', 'Ricolin', 1802, 'mrtaher_2010', 1731, 'd4,d5,Bf4,Nc6,c3,Nf6,e3,e6,Nf3,Be7,Nbd2,O-O,Bd3,Bd6,Ne5,Bxe5,dxe5,Ne4,Nxe4,dxe4,Bxe4,Bd7,O-O,Qe7,Qh5,g6,Bg5', 'gxh5,Bxe7,Nxe7', 'https://lichess.org/training/LtYWr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LtZVa', 'Classical', 'poyraz666', 1678, 'Ricardoviciado', 1675, 'd4,d5,Nf3,Bf5,Bf4,e6,e3,c5,Qe2,c4,b3,Bb4+,Nbd2,Bxc2,bxc4,Nf6,Bg5,h6,Bxf6,Qxf6,cxd5,exd5,Qb5+,Nc6,Ne5,Bxd2+,Kxd2,Qxf2+,Be2,O-O,Qxd5,Nxe5,Qxe5,Rfe8,Rhf1,Qxg2,Qh5,Qe4,Qf3,Qg6,Rg1,Be4,Qg3,Qh7,Bc4,Rac8,Bb3,Bg6', 'Qxg6,Qxg6,Rxg6', 'https://lichess.org/training/LtZVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lu0Z0', 'Rapid', 'wongtegal', 1825, 'julian07', 1872, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,O-O,Bc5,d6,O-O,c3,Nf5,Qf3,Nxd6,Bb3,Bg4,Qg3,Nf5,Qxe5,Bd6,Qb5,a6,Qxb7,Rb8,Qxa6,Nd7,d4,Rb6,Qc4,Nh6,Na3,Be6,Nxe6,fxe6,Qxe6+,Nf7,Nc4', 'Bxh2+,Kxh2,Rxe6', 'https://lichess.org/training/lu0Z0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lu4Bg', 'Rapid', 'dipakjjethva', 1600, 'Gandalf0000', 1642, 'e4,c5,Bc4,e6,Nf3,a6,O-O,b5,Be2,Qc7,c3,c4,d3,cxd3,Bxd3,Nf6,h3,Bb7,Qe2,Nc6,Bg5,Be7,Bd2,Ne5,Bf4,Bd6,Nxe5,Bxe5,Bxe5,Qxe5,f3,Nh5,Qf2,Nf4,Bc2,O-O,Nd2,d5,exd5,Bxd5,Rfe1,Qg5,Kh2,Rac8,g3,Nh5,Be4,Rfd8,f4,Qh6,Rad1,Nf6,Bxd5', 'Ng4+,Kg1,Nxf2', 'https://lichess.org/training/Lu4Bg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lu8hC', 'Classical', 'atharv_2006', 2162, 'CountCracula', 2321, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,Bc4,h6,Be3,e6,O-O,Be7,Bxe6,O-O,Bb3,Nc5,f3,Nxb3,Nxb3,b5,Nd5,Nxd5,Qxd5,Be6,Qd2,Qc7,Nd4,Bc4,Rfe1,f6,Rad1,Rfd8,Nf5,Bf8,Qf2,Rab8,Kh1,Be6,Nd4,Bf7,Qg3,Kh7,a3,Qc4,c3,d5,exd5,Bxd5,Bf4,Rb7,Ne6,Re8,Ng5+,fxg5,Rxe8,gxf4,Qh3,Qb3', 'Qf5+,g6,Qxd5,Qxd5,Rxd5', 'https://lichess.org/training/Lu8hC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LU99X', 'Rapid', 'Cristian208', 1776, 'GleamingFlag', 1787, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,a6,Nf3,b5,Bd3,Bb7,O-O,Nc6,a3,e6,Re1,Bd6,e4,O-O,e5,Ng4,exd6,Qxd6,Qc2', 'Nxd4,Nxd4,Qxh2+', 'https://lichess.org/training/LU99X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LuAHf', 'Classical', 'isucur', 1802, 'Liquid-Kore', 1666, 'e4,d5,e5,Nc6,d4,f6,Nf3,Bg4,Bf4,g5,Bg3,h5,h3,Bxf3,gxf3,h4,Bh2,Nh6,c3,Bg7,f4,gxf4,Bxf4,fxe5,Bxe5,Nxe5,dxe5,Bxe5,Bd3,Qd6,Rg1,O-O-O,Na3,a6,Rg6,Bf6,Qd2,Qe5+,Kd1,Qh5+,Kc2,Nf5,Rag1,b5,Nxb5,axb5,Bxb5,d4,Ba6+,Kb8,Qd3,dxc3', 'Qb5+,Ka7,Qb7#', 'https://lichess.org/training/LuAHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUbOL', 'Rapid', 'afshin1970', 1704, 'Karpov92', 1723, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,Nh5,Be5,f6,Bg3,Nxg3,hxg3,d5,Bd3,e5,dxe5,fxe5,Bxg6+', 'hxg6,Rxh8+,Bxh8', 'https://lichess.org/training/LUbOL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ludbo', 'Rapid', 'alexdo21', 1931, 'softsoft', 1860, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Bc5,Nc3,e3,dxe3,Nf6,e4,O-O,Bg5,Re8,e5,c6,Bxf6,gxf6,Qc4,Qb6,Ne4,Bxf2+,Nxf2,cxd5,Qb5,Qe3+,Be2,Nc6,O-O,fxe5,Rfe1,Qh6,c4,a6,Qxd5,Be6,Qe4,f5,Qh4,Qg6,Nxe5,Nxe5,Bh5,Qg7,Bxe8', 'Nf3+,Kf1,Nxh4', 'https://lichess.org/training/ludbo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUdyx', 'Blitz', 'Fernandes345', 1940, 'jepp7140', 1929, 'd4,Nf6,Bf4,Nd5,Bg3,g6,e4,Nf6,e5,Nd5,c4,Nb6,a4,d6,a5,N6d7,Nf3,dxe5,dxe5,e6,Be2,c5,O-O,Nc6,Nc3,Bg7,Nb5,O-O,Nd6,Ndxe5,Nxe5,Nxe5,Nxc8,Qxc8,Qc2,Rd8,Rfd1,Nc6,Bf3,Nd4,Qe4,Nxf3+,Qxf3,Rxd1+,Rxd1,Bxb2,Rb1,Bd4,Rxb7,Qf8,h4,f6,h5,e5,hxg6,hxg6,Qg4,Qh6,Qd7,Qc1+,Kh2,Qh6+,Kg1,Qc1+,Kh2,Qh6+,Bh4,Qxh4+,Qh3,Qxh3+,gxh3,g5,Kg3,Rf8,Kg4,Rf7,Rb8+,Kg7,a6,f5+,Kxg5,Bxf2,h4,Bd4,Rb7,e4,h5,e3,h6+,Kf8,Kg6,e2,Rxf7+,Kg8,Rxa7,e1=Q', 'Ra8+,Qe8+,Rxe8#', 'https://lichess.org/training/LUdyx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LuE3r', 'Classical', 'helmerfudd', 1666, 'Suhaschess1', 1709, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d6,c3,Nf6,Re1,Be7,d4,cxd4,cxd4,O-O,a3,Na5,Be2,Nxe4,Bd3,Nf6,Ng5,h6,Ne4,Nc6,Nxf6+,Bxf6,Bxh6,Nxd4,Bxg7,Bxg7,Qh5,f5,Re3,Qf6,Rh3,Bd7,Qh7+,Kf7,Qh5+,Ke7,Nc3,Rh8,Nd5+,exd5,Re3+,Ne6,Qf3,Bc6,Bxf5,Bd7,Rae1,Kd8,Qxd5,Nc5,Bxd7,Kxd7,b4,Qd4,Qf5+,Kc6,bxc5,Raf8,Qg6,Be5,Rxe5', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/LuE3r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lUftH', 'Blitz', 'Teodoro2020', 1623, 'dederovitch', 1614, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Nf6,Re1,O-O,d3,Bg4,h3,Bh5,Nbd2,a6,Bb3,Ne7,Nf1,Ng6,Ng3,Bxf3,Qxf3,Nf4,Nf5,Qd7,Bxf4,exf4,Qxf4,c6,Qg3,g6,d4,Nh5,Qg4,Nf6,Qg3,Nh5,Qf3,Bb6,Nh6+,Kg7,Ng4,Rae8,e5,d5,Nf6,Nxf6,Qxf6+,Kg8,Re3,Re6,Qg5,Bd8,Qg4,h5,Qg3,b5,f4,Kh7,Bc2,f5,exf6,Rfxf6,Rxe6,Qxe6,Re1,Qf7,Qf3,Rxf4,Qg3', 'Bh4,Bxg6+,Qxg6,Qxf4,Bxe1', 'https://lichess.org/training/lUftH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lufui', 'Rapid', 'barents', 1965, 'Kraparov75', 2012, 'e4,c6,c4,d5,cxd5,cxd5,e5,Bf5,d4,e6,Bd3,Bg6,Nc3,Nc6,Nf3,a6,a3,Nge7,Be3,Bxd3,Qxd3,Ng6,O-O,Be7,Rac1,O-O,b4,Rc8,Na4,Nh4,Nd2,Nf5,Nc5,Bxc5,bxc5,Qh4,g3,Qh3,Rb1,Rb8,Rb6,h5,Rfb1,Nd8,Bg5,f6,exf6,gxf6,Bf4,Rc8,Bd6,Rf7,Nf3,Qg4,Bf4,Rg7,Kf1,h4,Re1,hxg3,hxg3,Nxg3+,Bxg3,Qh3+,Ke2,Rg4,Rg1,Re4+,Kd2,Kf7,Be5,Qh6+,Kc2,fxe5,Ng5+,Ke7,Nxe4,dxe4,Qxe4,exd4,Rh1,Rxc5+,Kb3,Rh5,Rxh5,Qxh5,Qxd4,Qd5+,Qxd5,exd5,Kc3,Kd7,Kd4,Kc7,Rg6,Nc6+,Kc5', 'b6+,Kxd5,Ne7+,Kd4,Nxg6', 'https://lichess.org/training/lufui');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('luGTQ', 'Bullet', 'FM sedier', 2278, 'Anatoly1986', 2286, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Qc2,Re8+,Ne2,h6,Be3,Nd7,O-O-O,Nf8,Rhg1,Be6,Kb1,Qa5,b3,c5,g4,b5,h4,c4,Bf5,cxb3,axb3,Bd5,g5,hxg5,hxg5,Rxe3,fxe3,fxg5,Rxg5,Qa3,Rdg1,g6,Bxg6,fxg6,Rxg6+,Kf7,Rg7+,Ke8,Nc1,Rc8,Qb2', 'Be4+,Qc2,Bxc2+', 'https://lichess.org/training/luGTQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUgvr', 'Rapid', 'OlegN', 1802, 'MarcTo2000', 1803, 'd4,d5,Nf3,c5,g3,Nc6,Bg2,Bg4,Ne5,cxd4,Nxg4,e5,e3,dxe3,Nxe3,Nf6,O-O,Bc5,c3,O-O,Nxd5,Nxd5,Qxd5,Qb6,Qb3,Rad8,Qxb6,Bxb6,Nd2,f5,Bxc6,bxc6,Nf3,Rfe8,Bg5,Rd3,Kg2,h6,Be3,Bxe3,fxe3,Rb8,Nxe5,Rxb2+,Kh3,Rxc3,Rxf5,Kh7,Ng4,Rb5,Rxb5,cxb5,Rb1,h5,Nf2,a6,e4,Rc2,Nd3,Rxa2,e5,g5,e6,Re2,Ra1,Kh6,e7', 'g4+,Kh4,Rxh2#', 'https://lichess.org/training/LUgvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUjre', 'Rapid', 'ChessNarza', 2043, 'AUdIwAn', 2056, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bc4,O-O,O-O,Bg4,Be3,Qc7,h3,Bxf3,Qxf3,Nd7,Qg4,Nb6,Bh6,g6,Qf3,Rfe8,Qxf6,Bf8,Bxf8,Rxf8,Bb3,Nd7,Qf3,Kg7,Rfe1,Qd6,Rad1,Nf6,c4,Rae8,Rxe8,Rxe8,d5,cxd5,cxd5,a5,Qg3,Qc5,d6,Ne4,Qf3,Nxd6,Rxd6', 'Re1+,Kh2,Qxd6+', 'https://lichess.org/training/LUjre');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUJta', 'Blitz', 'NM Soledadense', 2271, 'odeshog', 2354, 'Nf3,g6,g3,Bg7,Bg2,c5,O-O,Nc6,c4,d6,Nc3,e5,Ne1,Be6,d3,Nge7,Nc2,d5,cxd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,Ne3,Qe6,a3,h5,Rb1,h4,g4,h3,f3,Bh6,b4,cxb4,axb4,Nd4,Nc2,Nb5,Bxh6,Rxh6,Qd2,Rh4,e4,Rc8,Ne3,Nd4,Nd5,Kf8,Qg5', 'Nxf3+,Rxf3,Rxg4+,Rg3,Rxg5', 'https://lichess.org/training/LUJta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUKYf', 'Rapid', 'rhuta', 1912, 'Andrii123321', 1912, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Nxc3,e5,Bc4,h6,Nb5,d6,O-O,a6,Nc3,Nf6,Qb3,Qc7,Qd1,Be7,Be3,O-O,Nh4,Nxe4,Ng6,Nxc3,bxc3,Re8,Qf3,Bf6,Bxh6,Be6,Bxe6,Rxe6,Qg4,gxh6,Nf4+,Bg7,Nxe6,fxe6,Qxe6+,Kh8,Rad1,Rd8,g3,Qe7,Qb3,b5,Rfe1,Na5,Qa3,Qc7,Re2,Qb6,Qb4,Nc4,Re4,d5,Rg4,a5,Qe7,Rg8,Rxd5,Ne3,Rxg7,Rxg7,Rd8+,Kh7,Qf8,Ng4,Qh8+,Kg6,Qe8+,Kh7,Qh8+,Kg6,Qe8+,Kf6,Qf8+,Rf7', 'Rd6+,Qxd6,Qxd6+', 'https://lichess.org/training/LUKYf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lUnU2', 'Rapid', 'TomMcFly', 1706, 'Freecharles', 1758, 'd4,d5,c4,dxc4,Nf3,Bd7,Bf4,Nf6,e3,e6,Bxc4,Nc6,O-O,a6,Nc3,Be7,Ne5,Nxe5,dxe5,Nd5,Nxd5,exd5,Qxd5,Be6,Qxd8+,Rxd8,Bxe6,fxe6,Rac1,c6,Rfd1,O-O,Rd4', 'Rxd4,exd4,Rxf4', 'https://lichess.org/training/lUnU2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUowK', 'Rapid', 'alexvasilich', 1813, 'Fleetwood934', 1831, 'd4,d5,Nf3,Nf6,h3,e6,Bf4,c5,e3,Nc6,c3,Qb6,Qc2,cxd4,exd4,Ne4,Bd3,Bd6,Be3,f5,Ne5,f4,Bxf4,Nxe5,Bxe4,Nf3+,Bxf3,Bxf4,Nd2,Bd7,Nb3,O-O,O-O,e5,Bxd5+,Be6,Be4,g6,dxe5,Bxe5,Rfe1,Bg7,Bxg6,hxg6,Qxg6,Qxf2+,Kh1,Bd5,Re7,Bf7,Qg4,Qxb2,Rf1,Qxc3,h4,Qd3,Qf4,Qg6,Nc5,Bc4,Qxc4+,Kh8,Rxf8+,Rxf8,Ne6', 'Qb1+,Kh2,Be5+', 'https://lichess.org/training/LUowK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUowU', 'Blitz', 'Iplaytoo', 1799, 'KocharianSerhio', 1912, 'e4,c5,f4,Nc6,b3,d6,Bb2,e5,f5,Nf6,g4,Nxe4,Qf3,Qh4+,Ke2,Ng5,Qg2,Nd4+,Kd1,Be7,Bxd4,cxd4,Nf3,Nxf3,Qxf3,O-O,d3,Bg5,Nd2,Bxd2,Kxd2,Qg5+,Kd1,Bd7,h4,Qe7,Qe2,Bc6,Rg1,Qxh4,Bg2,Bxg2,Qxg2,Rab8,Kc1,Qg5+,Kb2,Qe3,Rae1,Qg5,Rh1,b6,Rh5,Qd8,Reh1,h6,g5,f6,gxh6,Rf7,h7+,Kh8,Qg6,Qe7,Rg1,Rc8,Rh6,gxh6', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/LUowU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LuQMD', 'Blitz', 'kartalbir', 1837, 'Das_Auto', 1776, 'e4,e5,f4,exf4,Nf3,d5,exd5,Nf6,d4,Nxd5,c4,Ne3,Bxe3,fxe3,Nc3,Bb4,Bd3,O-O,O-O,Re8,Qe2,Bg4,Nd5,Bd6,Nxe3,Bf4,Nxg4,Rxe2,Bxe2,Nc6,d5,Ne7,Nd4,Bd6,Rae1,Ng6,Kh1,Qg5,Nf5,Re8,Rf2,Nf4,h4,Rxe2,Rfxe2,Qxf5,Re8+,Bf8,Ne5,Qc2', 'Rxf8+,Kxf8,Nd7+,Kg8,Re8#', 'https://lichess.org/training/LuQMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LuQpa', 'Classical', 'rtm', 1846, 'funambule', 1832, 'e4,c6,d4,g6,Nc3,Bg7,Be3,e6,Qd2,d5,exd5,cxd5,Nf3,Nf6,h3,Nbd7,Bd3,a6,O-O-O,O-O,Bh6,Re8,Bxg7,Kxg7,Rhe1,b5,Kb1,Nb6,h4,Nc4,Bxc4,bxc4,Ne5,Qb6,g4,Rb8,b3,a5,Na4,Ne4,Qe3,Qb4,f3,Qxa4,fxe4,Ba6,h5,cxb3,axb3,Bc4,Kb2,Re7,hxg6,fxg6,Rh1,Reb7,Ra1,Rxb3+,cxb3,Rxb3+,Kc2,Rxe3+', 'Rxa4,Bb3+,Kd2', 'https://lichess.org/training/LuQpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LusWd', 'Rapid', 'alegriblog', 2206, 'domoV-O-I', 2003, 'c4,e6,Nc3,Nf6,e4,Nc6,d4,Bb4,e5,Ne4,Qd3,d5,a3,Bxc3+,bxc3,b6,cxd5,exd5,Nf3,a5,Qb5,Qd7,Qb2,a4,Bb5,Ba6,e6,fxe6', 'Ne5,Nxe5,Bxd7+', 'https://lichess.org/training/LusWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lUT9l', 'Rapid', 'Kraneo', 1942, 'tourist2016', 2036, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,cxd4,Nxd4,Nc6,Be3,Bb4,Bd3,O-O,Qh5,g6,Qg4,Ndxe5,fxe5,Nxe5,Qg3,Nxd3+,cxd3,e5,Nc2,Ba5,Qxe5,Re8,Qf4,Bf5,O-O,Bc7,Qh6,Rxe3,Nxe3,Bb6,Kh1,Bxd3,Nexd5,Bxf1,Rxf1,Bd4,Rxf7,Kxf7,Qxh7+,Bg7,Qh3,Rc8,Qf3+,Kg8,h3,b5,Qe4,Rc4,Ne7+,Kf7,Qxg6+,Kxe7,Qxg7+,Ke8,Qe5+,Qe7', 'Qxb5+,Kf8,Qxc4,Qe1+,Kh2', 'https://lichess.org/training/lUT9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUtAm', 'Blitz', 'CM Kingscrusher-YouTube', 2458, 'Avagyan2008', 2145, 'b3,e5,Bb2,d6,e3,Nf6,f4,Nc6,Nf3,e4,Ng5,d5,Be2,h6,Nh3,Bd7,Nf2,Bd6,d4,Qe7,a3,a6,c4,b6,Nc3,Be6,Qc2,Na7,O-O,c5,dxc5,Bxc5,cxd5,Bxd5,Nxd5,Nxd5,Nd1,Nxe3,Nxe3,Bxe3+,Kh1,Rc8,Qd1,O-O,Bxa6,Rcd8,Qe1,Bc5,b4,Bd4,Ra2,Qe6,Qa1,Bxb2,Rxb2,e3,Be2,Rd2,Re1,Qf6,Rbb1,Qxf4,Bf3,Re8,Qc3,Qd4,Qc7,Nb5,Qc6,Qd7', 'Qxd7,Rxd7,Bc6', 'https://lichess.org/training/LUtAm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUuaq', 'Rapid', 'ugurluerdem38', 1696, 'Torneo123', 1910, 'Nf3,Nf6,g3,g6,b3,Bg7,Bb2,b6,Bg2,Bb7,O-O,O-O,d4,c5,c4,d5,Nbd2,Qc8,Re1,Na6,cxd5,Nxd5,e4,Ndb4,Nc4,Rd8,a3,Nc6,d5,Bxb2,Nxb2,e6,d6,e5,Nc4,Qe6,Qd5,Qf6,Nfxe5,Nxe5,Qxb7,Nd3,Qxa6', 'Qxf2+,Kh1,Nxe1', 'https://lichess.org/training/LUuaq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUvwg', 'Blitz', 'dudewithabigflute', 2762, 'FM pascalka0409', 2698, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,d6,a4,Bb7,O-O,Be7,Nc3,b4,Nd5,Nxd5,Bxd5,O-O,d4,Qc8,c3,exd4,cxd4,Na5,Bxb7,Qxb7,d5,Bf6,Rb1,Rfe8,Qd3,c5,b3,Rac8,Nd2,Bc3,Nc4,Nxc4,Qxc4,Qe7,f3,f5,exf5,Qe2,Qxe2,Rxe2,Bf4,Bd4+,Kh1,Be5,Bg3,Bxg3,hxg3,c4,bxc4,Rxc4,g4,a5,Rfe1,Rxe1+,Rxe1,Kf7,Kh2,Kf6,Re6+,Kf7,Rxd6,b3,Rc6,Rxa4,Rc7+,Kf6,d6,Rd4,g5+,Kxg5,Rb7,a4,g4,Rxd6,Kg3,Rd4,Rb6,g6,f6,h5,f4+,Rxf4', 'Rb5+,Kxf6,Kxf4', 'https://lichess.org/training/LUvwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUvX0', 'Rapid', 'phantom355', 1862, 'ha1999', 1708, 'e4,c5,c4,Nc6,Nc3,Nf6,Nf3,g6,d3,Bg7,Be2,O-O,O-O,e5,Nd5,a6,Rb1,Nd4,Bg5,d6,b4,Bd7,bxc5,dxc5,Rxb7,Bc6,Ne7+,Kh8,Nxc6,Qc8,Rb1,Nxc6,Qa4,Nd7,Nd2,Nd4,Bg4,f5,exf5,Nxf5,Ne4,Qc7,Qa3,Rfc8,Nf6,Nxf6,Bxf5,gxf5,Be3,f4,Bd2,Qc6,Rfe1,Nd7,f3,a5,Rb5,a4,Reb1,Qd6,Be1,Bf8,Bf2,Kg7,Qb2,a3,Qc3,Rab8,g3,Rxb5,Rxb5,Rb8,gxf4,Rxb5,cxb5,Kf6,fxe5+,Qxe5,Bh4+,Ke6,Qc4+,Kd6', 'Bg3,Qxg3+,hxg3', 'https://lichess.org/training/LUvX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUWLN', 'Rapid', 'valllll', 1652, 'SUMANI95', 1636, 'd4,d5,Nf3,Bf5,c4,dxc4,Nc3,Nc6,e4,Bg6,Bxc4,Bh5,d5,Ne5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,e6,dxe6,fxe6,O-O,Nf6,Bg5,Be7,e5,Nd5,Bxe7,Nxe7,Qxb7,O-O,Rad1,Qe8,Qxc7,Rc8,Qxa7,Nf5,Rd7,Qg6,Rfd1,Nh4,g3,Nf3+,Kg2,Nxe5,Re7,Qf6,f4', 'Nc6,Rxg7+,Qxg7', 'https://lichess.org/training/LUWLN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LUxoO', 'Blitz', 'Maaaaaaaat', 1518, 'Kinkyways', 1533, 'c4,e5,b4,Bxb4,a3,Bd6,Nf3,Nf6,Bb2,Nc6,Qc2,O-O,c5,Be7,Nxe5,Nxe5,Bxe5,d6,cxd6,Bxd6,Bc3,b6,e3,a5,Bd3,Ba6,Bxf6,Qxf6,Bxh7+,Kh8,d4,g6,h4,Kxh7,h5,Kh8,hxg6+,Kg7,Rh7+,Kg8,g7,Rfe8', 'Rh8+,Kxg7,Qh7#', 'https://lichess.org/training/LUxoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LV0jG', 'Blitz', 'Tara90', 1747, 'magnisskarlsun', 1751, 'e4,e5,Bc4,Nf6,Nc3,c6,d3,d5,exd5,cxd5,Bb3,Be6,Nf3,Bb4,Bd2,Nc6,Ba4,O-O,a3,Bxc3,bxc3,Bg4,h3,Bh5,g4,Bg6,Bg5,Qd6,Qe2,Nd7,Kd2,f6,Bh4,Nc5,Bxc6,bxc6,Bg3,Rfe8,Nh4,Rab8,Nxg6,hxg6,h4,Rb2,h5,Qe7,hxg6,e4,d4,e3+,fxe3,Ne4+,Kd3,Nxg3,Qh2,Nxh1', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/LV0jG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lv4Ta', 'Blitz', 'mikegriffin', 1857, 'Osenj', 1739, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,e6,c4,Nf6,Nc3,b6,Bd3,Bb7,O-O,Nc6,Bg5,Be7,Re1,O-O,Qc2,Kh8,h3,Nb4,Qe2,Nxd3,Qxd3,Bxf3,Qxf3,Qxd4,b3,h6,Rad1,Qc5,Bxf6,Bxf6,Ne4,Qf5,Nxf6,Qxf3,gxf3,gxf6,Rd7,Rg8+,Kh2,Rg7,Rxc7,Rag8,h4,Rg2+,Kh3,Rxf2,Re3,Rgg2,Rxf7', 'Rh2+,Kg4,Rfg2+,Kh5,Rg5+,Kxh6,Rxh4#', 'https://lichess.org/training/lv4Ta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lV7Dm', 'Classical', 'DrAlfredQuin', 1710, 'Microwinx', 1755, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Qd2,O-O,O-O-O,a6,Bc4,Nxd4,Bxd4,b5,Bd5,Nxd5,Bxg7,Nxc3,Qxc3,Re8,Bh6,f6,Qb3+,e6,Rd6,Qe7,Rhd1,Rd8,Rxe6', 'dxe6,Rxd8+,Qxd8', 'https://lichess.org/training/lV7Dm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LV9CO', 'Blitz', 'sprout21', 2179, 'WCM Sock_of_Fate', 2156, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,d3,d6,Be3,Nf6,h3,O-O,Nge2,e5,O-O,Nd4,Qd2,Be6,Nd1,Qd7,Kh2,Nh5,c3,Nc6,f4,f5,Nf2,fxe4,dxe4,Bh6,Rad1,Rad8,Nd3,Bxa2,Qc2,Be6,Nxc5,dxc5,Rxd7,Rxd7,f5,Bxe3,fxe6,Rd2,Qb3,Rxf1,e7+,c4,Qxc4+,Kg7,e8=Q,Rxe2,Qxe2', 'Bg1+,Kh1,Nxg3#', 'https://lichess.org/training/LV9CO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lvBL0', 'Blitz', 'LOK7', 1611, 'shahjehanben', 1806, 'e4,e5,Bc4,Nf6,Nc3,Bb4,d3,Bxc3+,bxc3,d5,exd5,Nxd5,Bb2,O-O,Nf3,Bg4,O-O,Qd6,h3,Bh5,Bxd5,Qxd5,c4,Qe6,Bxe5', 'Bxf3,Qxf3,Qxe5,Qxb7,Nd7', 'https://lichess.org/training/lvBL0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LVcLg', 'Rapid', 'impathak', 2194, 'lautaroprotto2', 2100, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,h6,Bh4,O-O,g4,b5,g5,hxg5,Bxg5,Bb7,Bd3,Nbd7,Rdg1,Nc5,Bh6,g6,Bxf8,Bxf8,f5,exf5,Nxf5,Nxd3+,cxd3,b4,Nxd6,Bxd6,Qxf6,Be5,Rxg6+,fxg6,Qxg6+,Bg7,Qe6+,Kh8,Qh3+,Kg8,Qe6+,Qf7,Qxf7+,Kxf7,Rf1+,Kg8,Nd5,Rc8+,Kb1,Bxd5,exd5,Rd8,Rf5,a5,Kc2,Re8,d6,Be5', 'd7,Rd8,Rxe5', 'https://lichess.org/training/LVcLg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lvCpc', 'Classical', 'Erdemmegapro', 1629, 'fofolido7', 1663, 'e4,c5,Bc4,Nc6,Nf3,g6,g3,Bg7,O-O,d6,Bd5,Bg4,Nc3,Nd4,e5,Nxf3+,Bxf3,Bxf3,Qxf3,Bxe5,d3,h5,Qxb7,Nf6,Qc6+,Nd7,Na4,h4,c3,hxg3,fxg3,Rb8,Qd5,e6,Qf3,Nf6,Bf4,Bxf4,Qxf4,Kf8,Qxf6,Qxf6,Rxf6,Ke7,Rff1,Rh5,c4,Rbh8,Rf2,f5,Rd1,g5,d4,f4,gxf4,gxf4,dxc5,dxc5,Rxf4,Rxh2,Kf1', 'Rh1+,Ke2,R8h2+,Rf2,Rxf2+,Kxf2,Rxd1', 'https://lichess.org/training/lvCpc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LvF6R', 'Rapid', 'VPVP', 1700, 'petr_kurlik', 1680, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Bc4,exd4,Nxd4,Be7,Nc3,a6,O-O,Nxd4,Qxd4,Bf6,Qe3,Be6,Bd5,c6,Bxe6,fxe6,f4,Qc7,e5,dxe5,f5,exf5,Rxf5,Nh6', 'Rxf6,gxf6,Qxh6', 'https://lichess.org/training/LvF6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LVGbp', 'Rapid', 'joaco10', 1667, 'Carloscornelio', 1605, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,Nxc6,Nf3,Bc5,Nxe5,O-O,Nxc6,bxc6,Bxc6,Qd6,Bxa8,Bxf2+,Kxf2,Qf4+,Bf3,Ng4+,Kf1,Nxh2+,Kg1,Nxf3+,gxf3,Bb7,d3,Qg3+,Kf1,Bxf3,Rg1', 'Qh3+,Kf2,Bxd1', 'https://lichess.org/training/LVGbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LvHRQ', 'Classical', 'Mitzibuschi', 2114, 'ScottPilgrim', 2276, 'e4,c5,Nc3,e6,f4,d5,e5,Nc6,Nf3,Nge7,Bb5,a6,Bxc6+,Nxc6,d3,Be7,O-O,O-O,Bd2,Bd7,Qe1,Rc8,b3,Nd4,Rc1,Nxf3+,Rxf3,b5,Ne2,Bc6,Rh3,d4,Ng3,Qd5,Ne4,Kh8,Qe2,f5,exf6,gxf6,Qh5,Qxh5,Rxh5,Bxe4,dxe4,f5,exf5,exf5,Re1,Bd6,Rh6,Rfd8,Ree6,Bf8,Rhf6,c4,Rc6,Rxc6,Rxc6,d3,c3,Rd6,Rc8,Kg7,bxc4,bxc4,Rxc4,Rb6,Kf2,Rb2,Ke3,Rxa2,Kxd3,a5,Rc7+,Kg6,h3,h5,Rc6+,Kf7,Ra6,h4,c4,Ra3+,Kc2,Ra2+,Kd3,Be7,Rxa5', 'Rxd2+,Kxd2,Bb4+,Ke3,Bxa5', 'https://lichess.org/training/LvHRQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lVJ5a', 'Rapid', 'Proviamo', 1770, 'SeniorCorazon', 1771, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,g6,Bg5,Bg7,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,Nf6,Bb5+,Bd7,Re1,e6,Qe2,a6,Nxd5', 'Bxb5,Nxf6+,Bxf6,Bxf6,Qxf6', 'https://lichess.org/training/lVJ5a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LvJhv', 'Classical', 'Vidsi', 2046, 'DISTROYER', 1878, 'e4,g6,Nf3,Bg7,d4,d5,e5,Bf5,c4,c6,Qb3,dxc4,Qxb7,Nd7,Bxc4,Nh6,Qxc6,O-O,O-O,Rc8,Qa4,Nb6,Bxf7+,Nxf7,Qxa7,Be4,Qa3,Nc4,Qb3,Qd5,Nc3,Qe6,Nxe4,Qg4,Re1,Nh6,Ned2,Kh8,Nxc4,Rxc4,Qxc4,Rxf3,h3,Rxh3,Re4', 'Qd1+,Qf1,Rh1+,Kxh1,Qxf1+', 'https://lichess.org/training/LvJhv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LvKp3', 'Blitz', 'Tolllk', 1875, 'SacPa', 1773, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,g6,Nf3,Bg7,Bc4,Nc6,O-O,d6,Qe2,Nf6,Rd1,O-O,e5,Ng4,exd6,exd6,Bf4,Qb6,Rxd6,Bf5,h3,Rae8,Qd2,Nge5,Nxe5,Nxe5,Bb3,Qa5,Re1,Bxh3,Bxe5,Bxe5,Rxe5,Qxe5,gxh3,Qh5,Kg2,Qc5,Qf4,Re5,h4,Rf5,Qg3,Rxf2+,Qxf2,Qxd6,Ne4,Qe5,Nf6+,Kg7,Ng4,Qc7', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/LvKp3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LVkpC', 'Blitz', 'PopilliiLaenates', 2070, 'JanBacksten', 2019, 'd4,g6,c4,Bg7,Nc3,c5,dxc5,Bxc3+,bxc3,Qa5,Qb3,Qxc5,Be3,Qc7,g3,d6,Nf3,Nf6,Bh6,Nc6,Nd2,Be6,Bg2,Na5,Qb5+,Bd7,Qb4,Be6,O-O,Nd7,Bg7,Rg8,Bd4,Ne5,Bxe5,dxe5,Rab1,Rb8,Rfd1,Nxc4,Qb5+,Kf8,Nxc4,Bxc4,Qb4,Kg7,e3,b5,Rd2,Rgd8,Rbd1,Rxd2,Rxd2,Rd8,Rxd8,Qxd8,Bf3,Qd2,h4,Qe1+,Kg2,Bf1+,Kg1,Be2+,Kg2,Bxf3+,Kxf3,Qh1+,Ke2,Qd5,Qxe7,a5,h5,a4,Qg5,Qxa2+,Kf1,Qb1+,Kg2,Qe4+,Kh2,Qf5', 'h6+,Kh8,Qd8#', 'https://lichess.org/training/LVkpC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lVkWe', 'Rapid', 'Timm74', 1939, 'Donio', 1892, 'e4,c5,Nc3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,Nf6,e5,dxe5,Qxd8+,Rxd8,O-O,e4,Ne5,Rd6,Bg5,h6,Nxc6,Rxc6,Bxf6,exf6,Rfe1,f5,f3,Bc5+,Kf1,e3,Na4,f4,g3,g5,Rad1,Ke7,g4,Rd8,Rxd8,Kxd8,Rd1+,Bd6,Nc3,Ke7,Nb5,a6,Nd4,Rb6,Nf5+,Ke6,b3,f6,Ke2,Bf8,a4,Rc6,c4,b5', 'Nd4+,Kd7,Nxc6+', 'https://lichess.org/training/lVkWe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LvlDs', 'Rapid', 'AragonogarA', 1811, 'Dmitry90', 1800, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,a6,Na3,Bxa3,bxa3,Qb6,Be3,Nd4,Rb1,Qc5,Ne2', 'Nxc2+,Qxc2,Qxc2', 'https://lichess.org/training/LvlDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LvLnx', 'Rapid', 'sentischev', 1607, 'bilja2233', 1801, 'e4,e5,Nf3,Nc6,c3,d6,Bd3,Bg4,O-O,Qd7,Re1,Be7,h3,Bh5,Be2,f5,d3,f4,Nxe5', 'Bxe2,Nxd7,Bxd1', 'https://lichess.org/training/LvLnx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LVMvF', 'Classical', 'shaiy', 1950, 'MiddleFinger2', 1942, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Nc3,a6,Bc4,d6,Bb3,Qc7,O-O,b5,f3,Nc6,Nxc6,Qxc6,Be3,O-O,Ne2,Bb7,Nd4,Qd7,Rc1,Rac8,c4,e5,Nf5,Rfd8,Bb6,Re8,a4,Bf8,a5,g6,Ng3,Qc6,cxb5,Qxb5,Ba4', 'Rxc1,Bxb5,Rxd1,Rxd1,axb5', 'https://lichess.org/training/LVMvF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lVnYX', 'Blitz', 'IforanI', 1822, 'CosmoGolden', 1927, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,Bg5,Be7,Nc3,O-O,Qd2,Nc6,Nd4,Ne5,f4,Ng6,h4,Bg4,Bxf6,Bxf6,h5,Nh4,Nd5,Bxd4,Qxd4,c6,Ne3,Bxh5,Be2,Bxe2,Kxe2,Ng6,Nf5,Nxf4+,Kf3,Qg5,Qe3,Ne6,Qxg5,Nxg5+,Kg4,Nxe4', 'Ne7+,Kh8,Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/lVnYX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lVoFX', 'Rapid', 'mistakeman', 1763, 'Yaisa', 1772, 'Nf3,e6,e4,h6,e5,b6,d4,Bb7,Be2,Nc6,Bf4,g5,Bg3,d6,Bd3,dxe5,dxe5,Qd7,Nc3,O-O-O,O-O,Nge7,Qe1,Nf5,Rd1,Bc5', 'Bxf5,exf5,Rxd7', 'https://lichess.org/training/lVoFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lVoxK', 'Blitz', 'beatrics', 2058, 'vieulschesulken', 1944, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e6,Bxc4,Bb4,Bd3,b6,Nf3,Bb7,Qc2,O-O,e5,Nd5,Bxh7+,Kh8,Bd3,Nxc3,bxc3,Bxf3,gxf3,Qxd4,O-O,Bxc3,Rb1,Qxe5,f4,Qf6,f5,Nd7,fxe6,fxe6,Be3,Ne5,Be4,Ng4,Bg2,Be5,h3,Nh2,Rfd1,Nf3+,Kf1,Rad8,Qe4,Nd4,f4,Bxf4,Bxd4,e5,Bf2,Bg3,Bf3,Qxf3', 'Qxf3,Rxf3,Rxd8+', 'https://lichess.org/training/lVoxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LVp9M', 'Rapid', 'argatour2', 1846, 'Loulou65', 1830, 'e4,e5,Nf3,Nc6,Bb5,Bd6,d3,a6,Ba4,b5,Bb3,Na5,c3,Nxb3,Qxb3,Nf6,Ng5,Qe7,Nd2,h6,Ngf3,O-O,Nf1,c5,Ne3,Rb8,O-O,Bc7,Nf5,Qe8,N3h4,Kh7,Qd1,d5,Qf3,dxe4,dxe4,Bb7,Qg3,g6,Nxh6,Nxe4,Qg4,Nf6,Qg3,Nh5,Qh3,Bc8,Qd3,e4,Qe3,Bf4,Qxc5,Bxc1,Raxc1,Kxh6,Rce1,Bb7,f3,Rc8,Qd6,Rc6,Qd5,Rc7,Qd6,Rd7,Qb6,Qe7', 'Nf5+,Kh7,Nxe7', 'https://lichess.org/training/LVp9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LvqC4', 'Blitz', 'Johnny2712', 2176, 'ruchinsh', 2113, 'd4,c5,e3,d5,Nf3,Nc6,Be2,Nf6,O-O,g6,c4,cxd4,Nxd4,dxc4,Nxc6,Qxd1,Rxd1,bxc6,Bxc4,Bg7,Nc3,O-O,e4,Rb8,Bb3,Ba6,Be3,Rb7,f3,e6,Na4,Bb5,Nc5,Rc7,a4,Nh5,axb5,Bxb2,Ra2,Bg7,g4,Nf6,bxc6,Rxc6,Rxa7,Rfc8,Ba4,Rxc5,Bxc5,Rxc5,Rd8+,Bf8,Raa8,Rc1+,Kg2,h5,Rxf8+,Kg7,Rfc8,Ra1,Bb3,Rb1,Bc4,Rb2+,Kg3,hxg4,e5,Nh5+,Kxg4,Rg2+,Kh3', 'Nf4+,Kh4,g5#', 'https://lichess.org/training/LvqC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lvsHV', 'Rapid', 'josuesee2', 2096, 'StarXraft', 1932, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,b3,Bg7,Bb2,e5,Nxc6,dxc6,Qxd8+,Kxd8,Nc3,Be6,O-O-O+,Kc7,g3,Nf6,Be2,Ng4,Bxg4,Bxg4,Rd3,Rad8,h3,Rxd3,cxd3,Be6,f4,Rd8,Kd2,a6,Na4,f6,Nc5,Bc8,Rf1,b6,Na4,c5,fxe5,fxe5', 'Rf7+,Rd7,Rxg7,Rxg7,Bxe5+,Kc6,Bxg7', 'https://lichess.org/training/lvsHV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lvsqL', 'Rapid', 'andrejpan', 1846, 'Baayaaaan', 1826, 'Nf3,e6,d4,d5,e3,c5,Ne5,Bd6,Bb5+,Bd7,Nxd7,Nxd7,c3,a6,dxc5,Bxc5,Be2,Ngf6,b4,Bd6,c4,Bxb4+,Bd2,Bxd2+,Qxd2,dxc4,Bxc4,O-O,O-O,Nb6,Bb3,Qxd2,Nxd2,Rfd8,Rfd1,Rac8,Nf3,h6,h3,Nbd5,Rac1,a5,Nd4,b6,Nc6,Rd7,Ba4,Rdc7,a3,Nd7,Rxd5,exd5,Ne7+,Kf8,Rxc7,Rxc7,Nxd5,Rc1+,Kh2,Nc5,Bb5,Rb1,a4,Rb2,Kg3,Ne4+,Kh2,Nxf2,Nxb6,Nd1,e4,Ne3,Kg3,Nxg2,Nc4,Ra2,Nxa5,h5,Nc4,h4+,Kg4,Ke7,Ne5,Ke6', 'Bc4+,Kxe5,Bxa2', 'https://lichess.org/training/lvsqL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lVsR9', 'Rapid', 'rassem', 1716, 'cockalop98', 1683, 'e4,c5,Nf3,e6,b3,Nc6,Bb5,Qc7,O-O,a6,Bxc6,Qxc6,Bb2,Qxe4,Nc3,Qc6,Re1,Be7,Ne5,Qc7,d4,Nf6,dxc5,Bxc5,Na4,Bd6,Qd4,b5,Nb6,Bc5,Nxa8,Qa7,Qf4,Bb7,Nd3,Nh5,Nc7+,Kd8,Qxf7,Rf8,Qxh5,Bxf2+,Nxf2', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/lVsR9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LVTcp', 'Rapid', 'lucaschaakt', 1918, 'martinm1996', 1944, 'b3,e5,Bb2,Nc6,e3,Nf6,Bb5,d6,Nf3,Bd7,O-O,a6,Be2,Bg4,h3,Bh5,d4,e4,Nfd2,Bxe2,Qxe2,Be7,c4,d5,cxd5,Qxd5,Nc3,Qf5,Rac1,O-O-O,Qc4,Qg6,d5,Ne5,Qd4,Bd6,Ndxe4', 'Nf3+,Kh1,Nxd4', 'https://lichess.org/training/LVTcp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LVtSO', 'Rapid', 'jaboo', 1742, 'haakon0603', 1758, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bf4,Bf5,Nf3,e6,Bc4,c6,O-O,Nbd7,Re1,h5,Ne2,Ng4,h3,Ndf6,Ng3,Bd6,Bxd6,Ne4,Nxf5,Ngxf2,Qc1,exf5,Rxe4+,fxe4,Kxf2,Qxd6,Ne5', 'Qxd4+,Qe3,Qxe5', 'https://lichess.org/training/LVtSO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lVUEo', 'Classical', 'Grillchips', 1961, 'KimchiForLife', 1947, 'e4,d6,d4,Nf6,Nc3,e5,Nf3,Be7,Bc4,c6,Bg5,Nbd7,Qe2,Qc7,O-O,h6,Bh4,Nf8,Bxf6,Bxf6,d5,Bg4,Qd3,Ng6,g3,h5,h4,Ne7,Kg2,O-O,Qd2,Qd7,Rh1,Bxf3+,Kxf3,cxd5,Nxd5,Qg4+,Kg2', 'Qxe4+,Kh2,Qxc4', 'https://lichess.org/training/lVUEo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LVUkr', 'Rapid', 'montejato', 2229, 'sergey050181', 2303, 'e4,c5,g3,d5,exd5,Qxd5,Nf3,Qe4+,Be2,Bh3,Nc3,Qg6,d3,e6,Bf4,Nc6,Ne4,Be7,Nd6+,Bxd6,Bxd6,Nge7,Bf4,O-O,Qd2,e5,Bxe5,Nxe5,Nxe5,Qf6,f4,Nc6,Nxc6,Qxc6,O-O-O,Qa4,Kb1,Be6,b3,Qc6,Rhf1,a5,Bf3,Qc7,Qc3,a4,g4,axb3,cxb3,Ra3,f5,Bd7,Kb2,Rfa8,Ra1,Qxh2+,Qc2', 'Rxa2+,Rxa2,Rxa2+,Kxa2,Qxc2+', 'https://lichess.org/training/LVUkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LVvOg', 'Rapid', 'lukaszkon', 1724, 'maihung', 1743, 'Nf3,c5,e4,a6,b3,Nc6,Bb2,Qc7,d4,cxd4,Nxd4,Qe5,f3,d5,Nd2,Nxd4,f4,Bg4,Qxg4', 'Nxc2+,Ke2,Qxb2', 'https://lichess.org/training/LVvOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lVwQi', 'Rapid', 'ScothGambit', 1691, 'azar2015', 1797, 'c4,Nf6,g3,g6,e3,Bg7,d4,O-O,Bg2,c6,Nf3,d5,cxd5,Nxd5,O-O,Bg4,Nc3,e5,Nxd5,e4,Nc3,exf3,Bxf3,Bh3,Bg2,Bxg2,Kxg2,Nd7,b4,a5,bxa5,Rxa5,Ne4,Nf6,Nxf6+,Bxf6,Bd2,Rd5,Rc1,Re8,Qb3,Qd7,Kg1,Qh3,Qxb7', 'Rh5,Rfd1,Qxh2+', 'https://lichess.org/training/lVwQi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LvXIc', 'Rapid', 'Aayushchess2', 1713, 'ACHARYASAM', 1974, 'e4,c5,c3,Nc6,Bc4,e6,Nf3,d5,exd5,exd5,Bb3,Bg4,O-O,Qf6,Qe1+,Nge7,d4,Bxf3,gxf3,cxd4,cxd4,Nxd4,Bxd5,Nxf3+,Bxf3,Qxf3,Nd2,Qg4+,Kh1,O-O-O,Qe4,h5,b3,f5,Qc4+,Nc6,Rg1,Qxc4,Nxc4,h4,h3,f4,Bxf4,Rh5,Rad1,Re8,Bd6,Rf5', 'Bxf8,Rexf8,Nd6+,Kb8,Nxf5', 'https://lichess.org/training/LvXIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LVZBC', 'Rapid', 'chatnoirs', 1888, 'yyi', 1718, 'd4,e6,Nf3,d5,Bf4,Nf6,e3,c5,Be2,Nc6,h3,Bd7,c3,Rc8,Nbd2,a6,O-O,Qb6,Rb1,cxd4,exd4,Be7,Ne5,Nxe5,dxe5,Ne4,Nxe4,dxe4,Be3,Bc5,Bxc5,Qxc5,Qd6,Qxd6,exd6,O-O,Rfd1,Bc6,Rd4,Rcd8,Rbd1,Rd7,Bc4,Rfd8,a3,g6,Kf1,Kg7,Bb3,Kf6,Ke2,Ke5,Ke3,f5,f4+,exf3,gxf3,Rxd6', 'f4+,Kf6,Rxd6', 'https://lichess.org/training/LVZBC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lW2iW', 'Rapid', 'woyyytek', 1733, 'amrinder1988', 1735, 'c4,e5,Nc3,Nf6,g3,Be7,Bg2,O-O,d3,Nc6,Nf3,Bb4,Bd2,b6,a3,Bd6,Bc1,Bb7,Rb1,Nd4,e3,Nxf3+,Bxf3,Qb8,O-O,Bxf3,Qxf3,c6,Rd1,Qe8,e4,Qe6,b3,Bc5,Be3,Bd4,Bxd4,exd4,Ne2,c5,Re1,d6,Nf4,Qd7,Re2,Rfe8,Rbe1,h6,e5,dxe5,Rxe5,Ng4', 'Rxe8+,Rxe8,Rxe8+,Qxe8,Qxg4', 'https://lichess.org/training/lW2iW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lW2mW', 'Rapid', 'nanudelacruz', 1702, 'healreadydead', 1747, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Nc3,Bc5,d3,Ng4,h3,Nxf2,Rxf2,Bxf2+,Kxf2,d6,Be3,Be6,Bxe6,fxe6,d4,Qe7,d5,exd5,Nxd5,Qf7,c3,g5,Ke2,O-O-O,b4,Qh5,b5,Na5,Qa4,b6,Ne7+,Kb8,Nc6+,Nxc6,bxc6,Ka8,Rb1,g4,hxg4,Qxg4,Kf2,Rhg8,Rg1,Rdf8,Qa6', 'Rxf3+,Ke1,Rxe3+', 'https://lichess.org/training/lW2mW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lw2pC', 'Rapid', 'Lyolik28', 1672, 'skarzhinskiy', 1878, 'e3,e6,d4,d6,Nc3,a6,Nf3,h6,Bd3,Nd7,O-O,g5,e4,b6,e5,Bb7,exd6,Bxd6,Be4,Bxe4,Nxe4,Ne7,Nxd6+,cxd6,c3,Ng6,Qd3,Rg8,a4,a5,b4,axb4,cxb4,Qf6,b5,Nf4,Bxf4,gxf4,Qe4,Ke7,g3,h5,Kh1,fxg3,fxg3,Qg7,d5,e5,Qh4+,Ke8,Qxh5,Rh8,Qf5,Qxg3,Qg5', 'Rxh2+,Nxh2,Qxg5', 'https://lichess.org/training/lw2pC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lw3co', 'Blitz', 'abmcdonald', 1673, 'elmejor2', 1700, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f3,Nbd7,Be2,b5,Nd5,Be7,Qd2,O-O,Nxf6+,Nxf6,O-O-O,Rc8,h4,Bxb3,Bd3,Bxa2,g4,Bc4,Bxc4,Rxc4,g5,Nh5,g6,fxg6,Qd5+,Kh8,Rdg1,Rxf3,Bd2,Nf4,Bxf4,Rxf4,h5,Rfxe4,hxg6,h6', 'Rxh6+,gxh6,g7+,Kh7,g8=Q+,Qxg8,Qxg8#', 'https://lichess.org/training/lw3co');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lw3oA', 'Rapid', 'SEP0', 1712, 'Rajakumar1959', 1752, 'e4,e6,d4,c5,dxc5,Bxc5,Nf3,Qb6,Qe2,Nf6,Nc3,Ng4,Nd1,Nc6,h3,Nf6,Be3,Bxe3,Qxe3,Qxe3+,Nxe3,Nxe4,Rd1,Nb4', 'Rd4,Nxc2+,Nxc2', 'https://lichess.org/training/Lw3oA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lw4rr', 'Rapid', 'Frannk_b', 1718, 'NurlanHasanli', 1717, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,g3,Nxc3,bxc3,e6,Bg2,Nc6,d4,Be7,Nf3,O-O,O-O,e5,d5,e4,Nd4,Nxd4,Qxd4,Re8,Qxe4,Bg5,Qc2,Bxc1,Raxc1,b6,d6,Rb8,dxc7,Qxc7,Rfd1,Bb7,e4,Qc4,Rd4,Qe6,Re1,f5,exf5,Qxe1+,Bf1,Re2', 'Qxe2,Qxe2,Bxe2', 'https://lichess.org/training/Lw4rr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lw6De', 'Rapid', 'Myselefis', 1888, 'BA_Siegs', 1936, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,c6,Bc4,Bc5,Bxf7+,Kxf7,Qh5+,g6,Qxc5,Qf6,d3,d6,Qc4+,Be6,Qb4,Qe7,Qxd4,Nf6,Bg5,h6,Bxf6,Qxf6,Qxd6,Qxb2,Qa3,Qxc2,Qc3,Qxc3,Nxc3,Rhd8,Rfd1,Rd7,Rd2,Rad8,Rad1,Bc4,d4,b5,a3,a5,f4,Bb3,Rb1,a4,Ne2,Bc4,Rc1,Bxe2,Rxe2,Rxd4,Rxc6,Rd3,e5,Rxa3,e6+,Ke8,e7,Rb8,Rxg6,Kf7,Rxh6,Re8,Rhe6,Rb3,f5,a3,g4,Rb2,Rxb2', 'axb2,Re1,Rxe7,Rb1,Re2', 'https://lichess.org/training/lw6De');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LW7kH', 'Rapid', 'val1970', 1663, 'vitaly_236', 1680, 'd4,d6,e4,Qd7,Nf3,e5,Be2,f6,Nc3,g5,h4,g4,Nh2,h5,f3,gxf3,Nxf3,Qg7,Rg1,Qg3+,Kd2,Bh6+,Kd3,b6,Nd5,Kd7,Bxh6,Rxh6,Qd2,a5,c3,c6,Nxb6+,Kc7,Nxa8+,Kb7,Kc2,Kxa8,dxe5,fxe5,Rad1,Be6,Qxd6,Bb3+,axb3,Rxd6,Rxd6,Ne7,Rh6,Ng6,Rxh5,Nf4,Rxe5,Nxe2,Rg5,Qf4,Rf5,Qe3,Re1', 'Qxe4+,Kd2,Qxf5', 'https://lichess.org/training/LW7kH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lwApk', 'Blitz', 'gabi0307', 1667, 'dirtybird', 1568, 'd4,e5,Nc3,exd4,Qxd4,Nc6,Qd1,Bb4,Bf4,Nf6,f3,O-O,e4,d6,Bc4,Be6,Bxe6,fxe6,Ne2,e5,Bg5,Bc5,Qd2,a6,Nd5,b5,Nxf6+,Rxf6,Bxf6,Qxf6,O-O-O,a5,h4,Rd8,Qd5+,Qf7,Qxc6,Qxa2,Qxb5', 'Be3+,Rd2,Qa1#', 'https://lichess.org/training/lwApk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWB0X', 'Rapid', 'deepakkumar08', 1669, 'Joost99', 1667, 'd4,c5,d5,e6,d6,Qb6,Bf4,h6,h4,Qxb2,Nd2,Qd4,e3,Qd5,Bc4,Qc6,Ndf3,Nf6,Ne2,Ne4,O-O,Bxd6,Bxd6,Nxd6,Ne5,Qc7,f4,Nc6,Bb3,Nxe5,fxe5,Nf5,e4,Ne3,Qd2,Nxf1,Rxf1,Qxe5,Nc3,b6,Nb5,Ba6,Nd6+,Ke7,Rxf7+,Kd8,Rf1,Bxf1', 'Nf7+,Kc7,Nxe5', 'https://lichess.org/training/LWB0X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lwBpS', 'Rapid', 'Augusto2015', 1930, 'Kobracan', 1848, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Bb5+,Nc6,Qd3,Bxf3,Qxf3,e6,c3,Nf6,Bg5,Be7,Nd2,a6,Bxc6+,bxc6,a3,h6,Bxf6,Bxf6,b4,a5,O-O,axb4,axb4,O-O,Nb3,e5,Qd3,exd4,Nxd4,Qb6,Nb3,Rfd8,Rxa8,Rxa8,Nc5,Rd8,Ra1,d4,Ra6,dxc3', 'Rxb6,Rxd3,Nxd3', 'https://lichess.org/training/lwBpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWBVn', 'Rapid', 'youra12', 1633, 'Steinar1964', 1623, 'e4,c5,Nf3,d6,Bc4,Nc6,d4,cxd4,c3,dxc3,Bxf7+,Kxf7,e5,Be6,Ng5+,Ke8,Nxe6,Qd7,Qg4,Nxe5,Nxg7+,Kd8,Ne6+,Kc8,Qf5,Nf6,Nxc3,Kb8,Be3,Nfg4,O-O,h5,a4,Nxe3,fxe3,Bh6,Nd4', 'Bxe3+,Kh1,Bxd4', 'https://lichess.org/training/LWBVn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lwELC', 'Rapid', 'mr_bobon', 1763, 'erdemsaglamm', 1741, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nf5,Nge7,O-O,g6,Nh6,Bg7,Qf3,f6,Nc3,Ne5,Qe2,a6,Bxd7+,Qxd7,f4,Bxh6,fxe5,Bxc1,Raxc1,fxe5,Rcd1,O-O-O,a4,Nc6,Nd5,Nd4,Qc4,Nc6,c3,Na5', 'Nb6+,Kb8,Nxd7+', 'https://lichess.org/training/lwELC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWFOn', 'Rapid', 'ocian', 1832, 'chlebik', 1737, 'd4,Nf6,Bg5,e6,e3,Be7,Bd3,O-O,Nd2,b6,f4,Nd5,Qe2,Bxg5,fxg5,Qxg5,Nf1,Bb7,Nf3,Qd8,c3,Nf6,Ng3,d5,Ne5,Nbd7,Nh5,Nxe5,Nxf6+,Qxf6,dxe5,Qxe5,O-O-O,c5,Rhg1,Qxh2', 'Rh1,Qxh1,Rxh1', 'https://lichess.org/training/LWFOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LwIQ3', 'Classical', 'diovinn', 2084, 'Rleijser', 1949, 'd4,Nf6,Nc3,d5,Bg5,Nbd7,f3,c5,e4,e6,exd5,exd5,Nxd5,cxd4,Qxd4', 'Qa5+,Bd2,Qxd5', 'https://lichess.org/training/LwIQ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWJ0y', 'Rapid', 'Fernando_UFRJ', 1748, 'gh24', 1861, 'e4,Nf6,Bc4,Nxe4,d3,Nf6,Bg5,d5,Bxf6,exf6,Qe2+,Be7,Bb5+,c6,Ba4,O-O,Nf3,Bg4,Nbd2,Bb4,Qd1,Re8+,Kf1,Nd7,c3,Bd6,h3,Bf5,Nb3,b5,Nbd4,Bxd3+,Qxd3,Nc5,Qc2,Nxa4,Nxc6,Qb6,Ncd4,Rac8,g3,Bc5,Rd1,Bxd4,Rxd4,Qe6,Kg2,Nc5,Re1,Qd6,Red1,Red8,Qd2,Ne4,Rxd5', 'Nxd2,Rxd6,Rxd6', 'https://lichess.org/training/LWJ0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWJka', 'Rapid', 'ilias28', 2098, 'prateekwadhwa', 1841, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Bd3,Bg4,Be3,e6,c3,Be7,O-O,O-O,h3,Bh5,Be2,Nd7,Qb3,Qb6,Qc2,Bg6,Qd2,Qc7,b3,Bf6,a4,e5,dxe5,Nxe5,Nxe5,Bxe5,f4,Rad8,Qe1,Rfe8,fxe5,Qxe5,Rf3,Bh5,Rg3,Bxe2,Bd4,Rxd4,cxd4,Qxd4+,Kh2,f5,Ra2,Qe5,Qc3,Qc7', 'Rxe2,Rxe2,Qc4+,Kf8,Qxe2', 'https://lichess.org/training/LWJka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWjOR', 'Rapid', 'imampetlju', 2162, 'BADRGS', 1956, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,d6,c3,Bd7,O-O,g6,h3,Bg7,Be3,O-O,Nbd2,b5,Bb3,Na5,Bc2,c5,Re1,Qc7,Rc1,Qb7,Nf1,Rfe8,Bg5,h6,Bh4,g5,Bg3,Nh5,N3h2,Nf4,Ng4,d5,exd5,Qxd5,Nfe3,Qb7,h4,f5,Nh2,gxh4,Bxh4,Ng6,Qh5,Nf4,Qf3,Bc6,Qg3,Rf8,f3,Rae8,b4,Re6,bxa5,Rg6,Nhg4,fxg4,fxg4,Rd6,Nf5,Rd7,Nxg7,Rxg7,Rxe5,Bxg2,Bd1,Nxd3,Qxd3,Rf1+,Kh2', 'Rh1+,Kg3,Rh3+', 'https://lichess.org/training/LWjOR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWjpJ', 'Classical', 'PieceOfCheckmate', 1822, 'koestenbauer', 1918, 'Nf3,d5,d4,Nf6,g3,e6,Bg2,c5,O-O,Nc6,c4,cxd4,Nxd4,Nxd4,Qxd4,Qb6,Qxb6,axb6,cxd5,exd5,Nc3,Be6,Bg5,Be7,Rad1,Rd8,b3,h6,Bxf6,Bxf6,Nxd5,Bxd5,Rxd5,Rxd5,Bxd5,Ke7,Rd1,Rc8,Rd2,Rc7,e4,Be5,f4,Bd6,e5,Bb4,Rd4', 'Bc5,Kg2,Bxd4', 'https://lichess.org/training/LWjpJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LwJT0', 'Rapid', 'azuaga', 1947, 'dendy-metamorphosis', 1933, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,c6,O-O,Bd6,Bg5,Be6,Nbd2,Nbd7,Re1,O-O,Bd3,c5,Ne5,cxd4,Nxd7,Bxd7,Nb3,h6,Bh4,g5,Bg3,Bxg3,hxg3,Qb6,Qf3,Bg4,Bh7+,Kxh7,Qd3+,Kg7,Nxd4,Bh5,Nf5+,Kh7,Ne7+,Bg6,Nxg6,fxg6,Re7+,Kh8,Qxg6,Qxf2+,Kh1,Rg8', 'Qxh6+,Nh7,Qxh7#', 'https://lichess.org/training/LwJT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LwjVl', 'Classical', 'Ardachess22', 1604, 'Abomhmd', 1853, 'd4,Nf6,c4,g6,Nf3,Bg7,e3,O-O,Bd3,d6,Nc3,c6,Qc2,Bg4,Nd2,Na6,f3,Bc8,a3,Nc7,Nde4,d5,Nxf6+,Bxf6,c5,e5,Bd2,exd4,exd4,Bxd4,Ne2,Qe7,O-O-O,Bxc5,Bh6,Re8,Qc3,f6,Nd4,Bd6,Rde1,Qf7,Rxe8+,Qxe8,Re1,Qf7,g3,Bd7,Nc2,Re8,Rxe8+,Nxe8,Qe1,c5,Ne3,c4,Bc2,b5,Qd1,Nc7,f4,Bc5,Ng2,Qe6,f5,gxf5,b4,cxb3,Bxb3,Bxa3+,Kd2,Bb4+,Kc1,Bd6,Qd4,a5,Nf4,Qe5,Qd2,a4,Bxd5+,Nxd5,Nxd5,Ba3+,Kd1,Bc6,Ne3,Bf3+,Ke1,Qd6,Qa2+,Kh8,Qf7,Bb4+,Kf2,Qe7', 'Bg7#', 'https://lichess.org/training/LwjVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LwkbJ', 'Blitz', 'Andi0412', 1973, 'Ops04', 2227, 'd4,d6,Nf3,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Be2,Nc6,O-O,Bg4,Be3,Bxf3,Bxf3,e5,d5,Nd4,Bxd4,exd4,Qxd4,Re8,Qd3,Nd7,Rfe1,Nc5,Qc2,a5,g3,Qf6,Bg2,a4,Rad1,a3,Nb5,axb2,Nxc7,h5,Nxe8,Rxe8,Rb1,Ra8,e5,dxe5,Qxb2,Nd3,Qxb7,Rxa2,Rf1,Rxf2,Qb8+,Kh7,d6,e4,d7,Qd4,d8=Q', 'Rxf1+,Kxf1,Qf2#', 'https://lichess.org/training/LwkbJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWkyi', 'Rapid', 'fikriafr', 1743, 'vittalsk89', 1712, 'e4,c5,c3,d6,d4,b6,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,e6,Be3,Rc8,Nbd2,g6,Nf1,Bg7,Ng3,h6,O-O,Ngf6,h3,O-O,Qd2,Kh7,e5,dxe5,dxe5,Nd5,Nh2,Nxe3,Qxe3,Nxe5,Rad1,Qc7,b3,b5,f4,Nd7,Ne4,Nf6,Nd6,Rb8,Rd2,Rfd8,Rfd1,Ne8,Nxf7', 'Rxd2,Rxd2,Qxf7', 'https://lichess.org/training/LWkyi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWl8D', 'Rapid', 'younes1888', 1943, 'Yasser6060', 1934, 'e4,e5,Nf3,d6,Bc4,h6,d3,Nf6,Nc3,Be7,Ne2,c5,h3,O-O,O-O,a6,a4,Bd7,c3,Qc8,d4,cxd4,cxd4,Qxc4,dxe5,Nxe4,Be3,Bc6,Ned4,a5,Nf5,Bg5,Bxg5,Nxg5,Nxg5,hxg5', 'Ne7+,Kh7,Qh5#', 'https://lichess.org/training/LWl8D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lWlXY', 'Blitz', 'Belal__elsayed', 1537, 'geogia', 1622, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Bg5,Be7,Nf5,Nxe4,Nxg7+,Kf8,Bh6,Kg8,Qg4,Nf6,Qg3,Bd6,Qg5,Qe7+,Be2,Ne4,Qxe7,Bxe7,O-O,Bf6,Ne8,Bxb2,c3,Bxa1,Bd3,f5', 'Bc4+,d5,Bxd5+,Be6,Bxe6#', 'https://lichess.org/training/lWlXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LwM31', 'Rapid', 'Subhash455', 2026, 'nodamio', 2019, 'd4,Nf6,Bf4,d5,Nf3,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Nbd7,Ne5,a6,Nd2,c5,Nxd7,Qxd7,dxc5,Bxc5,c3,O-O,Nf3,Bd6,Ne5,Bxe5,Bxe5,Ne4,O-O,b5,f3,Nc5,Qd4,f6,Bg3,Nb7,e4,Rfd8,Rad1,Na5,exd5,Qxd5,Qe3,Qxd1,Rxd1,Rxd1+,Be1,Kf7,Kf2,Nc4,Qe4,Rad8,Kg3,Nxb2,Qb7+,R8d7,Qe4,Nc4,Bf2,h6,Qh4,R7d5,h3,Ra1,Bd4,Rg5+,Kh2,Rxa2,Bf2,Nd2,Qd4,Rd5,Qa7+,Kg6,h4,a5,Qe7,Re5,f4,Re4,Qe8+,Kf5,Qh5+,Kxf4', 'g3#', 'https://lichess.org/training/LwM31');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LwMbA', 'Blitz', 'JHOM34', 1760, 'sharksterfly', 1825, 'c4,e6,d4,d5,e3,h6,Nf3,Nf6,Bd3,c5,O-O,a6,Nbd2,Nc6,cxd5,exd5,dxc5,Bxc5,a3,O-O,b4,Ba7,Bb2,Bb8,h3,Nh7,Qc2,Ng5,Nxg5,Qxg5,Nf3,Qe7,Rae1,Qd6,e4,d4,e5,Qd8,Re4,Re8,Rh4,Nxe5,Rxd4', 'Nxf3+,gxf3,Qg5+,Rg4,Bxg4', 'https://lichess.org/training/LwMbA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lwofk', 'Rapid', 'joseagf', 2074, 'VoSlawuBoga', 2153, 'e4,d6,d4,c6,Nc3,h6,Be2,g5,h4,gxh4,e5,dxe5,dxe5,Qxd1+,Bxd1,h3,Nxh3,Bxh3,Rxh3,Bg7,e6,fxe6,Ne4,b6,a4,Nf6,Bf3,Nd5,a5,b5,Nc5,Nd7,Nxe6,Kf7,Nxg7,Kxg7,Rg3+,Kf8,c4,bxc4,Ra4,Ne5,Bh5,Rb8,f4,Nd3+,Rxd3,cxd3,f5,Rb4,Rxb4,Nxb4,Bd2,c5,b3,Kg7,Bc3+,Kg8,Bg6,Nc2+,Kd2,Nb4,g4,Rh7,Bxb4,cxb4,Bxh7+,Kxh7,Kxd3,Kg7,Ke4,Kf6,Kf4,a6,Ke4,Kg5,Kf3,h5,gxh5,Kxh5,Kf4,Kh4,Ke4,Kg5,Ke5,Kg4,Ke4,Kg3,Ke5,Kf3,Ke6,Kf4,Kxe7,Kxf5,Kd6,Ke4,Kc5,Ke5', 'Kb6,Kd4,Kxa6', 'https://lichess.org/training/Lwofk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lwoyu', 'Rapid', 'terores', 1678, 'klsoathkg', 1820, 'e4,e5,Bc4,Bc5,Nf3,Nc6,b4,Bxb4,c3,Bc5,Qb3,Qe7,d3,Nf6,Bg5,O-O,Nbd2,Na5,Qd1,Nxc4,Nxc4,d6,O-O,Bg4,h3,Bh5,Rb1,Rab8,Ncd2,b5,d4,exd4,cxd4,Bxd4,g4,Bg6,Nxd4,h6,Bh4,Qe5,Nc6,Qe6,Nxb8,Rxb8,Qe2,Qxa2,Bxf6,gxf6,Qe3,Kg7,Nf3,a6,Nh4,Bh7,Nf5+,Bxf5,gxf5,Rg8,Kh2,c5,Rg1+,Kh7,Rxg8,Kxg8,Rg1+,Kf8,Qxh6+,Ke7,Qe3,b4,Rd1,b3,Kg2,b2,Rd2,Qa1,Qd3,b1=Q', 'Qxd6+,Ke8,Qd8#', 'https://lichess.org/training/Lwoyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lwpXP', 'Rapid', 'RedDevil64', 1762, 'Zempion', 1789, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,c3,dxc3,Nxc3,Nf6,e5,Ng4,Bxf7+,Kf8,Be3,Nxe3,fxe3,Kxf7,Qd5+,Ke8,Qxc5,d6,exd6,cxd6,Qh5+,g6,Qb5,Rf8,O-O,Kd7,Rad1,a6,Ne5+,Kc7,Nd5+,Kb8,Rxf8,Qxf8', 'Nxc6#', 'https://lichess.org/training/lwpXP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lWQx2', 'Rapid', 'alcarajolaweb', 1726, 'Gurra456', 1741, 'd4,Nf6,c4,e6,Nf3,d5,e3,c6,Bd3,Bb4+,Bd2,dxc4,Bxc4,Bd6,h3,c5,O-O,cxd4,Nxd4,O-O,Bc3,Qb6,Nd2,Bd7,e4,Rc8,Bd3,e5,Nf5,Bxf5,exf5,Rd8,a3,Bc7,Bc2,Nd5,Qf3,Nc6,Ne4,Nf4,f6,Nd4,Bxd4,exd4,fxg7,d3,Bd1,Qxb2,Ba4,b5,Rab1,Qe5,Rxb5', 'Ne2+,Kh1,Qh2#', 'https://lichess.org/training/lWQx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lwrft', 'Blitz', 'sargis88', 1919, 'Dezzo_lute21', 1918, 'e4,Nf6,d3,e5,Nc3,Bb4,Bd2,O-O,Nf3,Nc6,a3,Ba5,Be2,d5,exd5,Nxd5,Nxd5,Bxd2+,Qxd2,Qxd5,O-O,h6,c4,Qd6,b4,a6,c5,Qd5,Rad1,f5,Rfe1,Be6,d4,e4,Ne5,Nxe5,dxe5,Qxe5,f3,Rad8,Qe3,Qb2,fxe4,fxe4,Qxe4,Bb3,Bc4+,Bxc4,Qxc4+,Kh8,Rxd8', 'Qf2+,Kh1,Qxe1+,Qf1,Qxf1#', 'https://lichess.org/training/Lwrft');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWTLp', 'Rapid', 'Jovic16', 1728, 'ZolAP', 1720, 'e4,c5,Nf3,g6,Nc3,Bg7,a3,d6,Bc4,Nc6,h3,Nf6,d3,O-O,O-O,a6,Bf4,Nh5,Bh2,Ne5,Nxe5,dxe5,Ne2,Qb6,Rb1,Bd7,f4,exf4,Nxf4,Nxf4,Bxf4,Rad8,c3,Be6,Bxe6,Qxe6,Rf3,c4,Qe2,cxd3,Rxd3,Qa2,Rbd1,Rxd3,Rxd3,Rc8,Qd2,Qe6,Rd8+,Rxd8', 'Qxd8+,Bf8,Bh6,Qb6+,Qxb6', 'https://lichess.org/training/LWTLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWwVa', 'Rapid', 'alikonich1', 1600, 'Jembel', 1649, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Nc3,Bb4,Bd2,Nd4,Nxd4,exd4,Nb1,Bxd2+,Nxd2,Nf6,O-O-O,Re8,Bd3,c5,f3,b6,Bb5,Bd7,Bc4,Be6,Bb5,Bd7,Bc4,Be6,Bb5,Bd7,Ba6,Bc8,Bb5,Bd7,Bxd7,Kxd7,Rhe1,Kd6', 'e5+,Kc6,exf6', 'https://lichess.org/training/LWwVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWxbo', 'Rapid', 'Esau6', 1717, 'harmonisa', 1776, 'e4,c6,Bc4,d5,e5,dxc4,Qe2,e6,Qxc4,b6,Nf3,Ne7,d4,Ba6,Qb3,Nd7,c4,Nf5,O-O,Be7,Nbd2,O-O,Qc3,h6,Nb3,Rc8,h3,c5,d5,exd5,Rd1,Bxc4,Nbd2,Be2,Re1,Bxf3,Nxf3,d4,Qd3,c4,Qxf5,d3,e6,fxe6,Qxe6+,Rf7,Bd2,b5,Ne5,Nxe5,Rxe5,Qd6', 'Qxc8+,Rf8,Qe6+,Qxe6,Rxe6', 'https://lichess.org/training/LWxbo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lwz0a', 'Classical', 'michu99v2', 1967, 'bata63', 1983, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,O-O,Nf6,Re1,h6,d4,exd4,cxd4,a6,Ba4,Be7,e5,Nd5,Nc3,Nxc3,bxc3,O-O,Bc2,f5,e6,Be8,d5,Na5,Nd4,Bg6,f4,c6,dxc6,bxc6,Ba3,c5,Nb3,Nc4,Bc1,a5,Qe2,Nb6,Be3,Nd5,Bd2,Rf6,c4,Nc7,Rad1,Rxe6,Qf3,Rxe1+,Bxe1,Ne8,Nxc5,Rc8,Ne6,Qb6+,Bf2,Qb2,Bb3,a4,Bxa4,Qxa2,Bb3,Qa5,c5,dxc5,Nxc5+,Kh7,Nd7,Nf6,Ne5,Rc3,Qb7,Bc5,Nxg6,Bxf2+,Kxf2,Qc5+,Kf1,Ne4,Nf8+,Kh8,Ng6+,Kh7,Bg8+,Kxg6', 'Qf7#', 'https://lichess.org/training/lwz0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LWZsn', 'Bullet', 'Papichu', 1977, 'schakeling', 2048, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nd2,e6,Ngf3,cxd4,exd4,Nh5,Bg5,f6,Bh4,Bd6,Be2,Nf4,O-O,O-O,Bg3,e5,dxe5,fxe5,Re1,e4,Nd4,Nxd4,cxd4,Qf6,Nf1,Nxg2,Kxg2,Bxg3,fxg3', 'Qf2+,Kh1,Bh3,Ne3,Qxe3', 'https://lichess.org/training/LWZsn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lx2nJ', 'Blitz', 'behmeh93', 2221, 'JamesPeirce', 2047, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Be2,Nc6,O-O,e5,d5,Nd4,Nxd4,exd4,Qxd4,Ng4,Qd1,Qh4,Bxg4,Bxg4,f3,Bd7,Be3,f5,Bd4,Bh6,e5,dxe5,Bxe5,Rae8,Bxc7,Be3+,Kh1,f4,Ne4,Rf5,Qe1', 'Qxh2+,Kxh2,Rh5+,Qh4,Rxh4#', 'https://lichess.org/training/Lx2nJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lx2S0', 'Rapid', 'rjvillac', 1724, 'Mr_Not_So_Great', 1706, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Nxc3,bxc3,Bxc3,Qb3,O-O,Qxc3,d5,Bb5,Bd7,Ba3,Re8,Ba4,Nxd4,Bxd7', 'Ne2+,Kh1,Nxc3', 'https://lichess.org/training/lx2S0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lx49w', 'Rapid', 'Isatis34', 2059, 'JuniorTaruodzera', 1830, 'e4,e5,Nf3,Nc6,Bb5,Nce7,Nxe5,Nf6,d3,c6,Bc4,Qa5+,Nc3,Qxe5,O-O,g6,f4,Qd4+,Kh1,Bh6,Qf3,Qb6,Be3,Qxb2,Bd4,Bg7,Bb3,Qa3,e5,Nfd5,Ne4,O-O,Nf6+,Kh8,Rab1,Nf5,Bb2,Qe7,Nxd5,cxd5,Bxd5,Rb8,Rfe1,Nh4,Qf2,b6,a4,Bb7,Bxb7,Rxb7,Ra1,Qc5,Bd4,Qc7,Qxh4,Qxc2,Qg3,d6,Rec1,Qb3,Qf3,Rbb8,Rab1,Qe6,Re1,Qd7,Qf2,dxe5,Bxe5,Bxe5,fxe5,Qxd3,a5,Qa6,Qf6+,Kg8,axb6,Rxb6,Rxb6,Qxb6,Qf3,a6,h3,a5,Qa3,Qb4,Qa2,a4,Rb1,Qa5,e6,fxe6,Qxe6+,Kg7', 'Rb7+,Kh6,Qe3+,Qg5,Rxh7+,Kxh7,Qxg5', 'https://lichess.org/training/lx49w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LX4SC', 'Classical', 'vladamnik', 1833, 'ViktorSergushkin', 1944, 'c4,e5,Nc3,Bc5,Nf3,Nc6,e3,d6,h3,Nf6,d4,exd4,exd4,Bb4,Qc2,O-O,Be2,Qe7,O-O,Bxc3,bxc3,h6,Re1,Qd8,Bf4,Re8,Bd3,Ne7,Re2,d5,Rae1,dxc4,Bxc4,Bf5,Qb3,Bg6,Qxb7,Bh5,Rxe7,Rxe7,Rxe7,Rb8,Qxc7,Qxc7,Rxc7,Ne4,Ne5,Rb1+,Kh2,Nxf2,Rc8+,Kh7,Nxf7,g5,Be3', 'Rh1+,Kg3,Ne4#', 'https://lichess.org/training/LX4SC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lx5IB', 'Rapid', 'mastercomplexity', 2064, 'Skadovsk', 1965, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,h3,h5,d4,exd4,Bg5,Bxf3,Qxf3,Qxg5', 'Qxf7+,Kd8,Qf8+,Kd7,Qxa8', 'https://lichess.org/training/lx5IB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lx6mb', 'Rapid', 'GIANNISPAP40', 1876, 'PANAMERISH', 1871, 'd4,d5,Nf3,Bf5,Nc3,e6,Bf4,Bb4,e3,Bg6,Bd3,f5,a3,Bxc3+,bxc3,Nf6,Ne5,O-O,Bg3,Bh5,Be2,Be8,a4,Ne4,Qd3,Nd7,Bf3,Rf6,Nxd7,Qxd7,Be5,Rh6,Bxe4,fxe4,Qe2,Bh5,Qb5,Qc8,Rb1,b6,Qc6,Rg6,Qxc7,Qa6,c4,Rxg2,Qc6,Rf8,Qxe6+,Kh8,Qxd5,Bf7,Qxe4,Rxf2,Bxg7+,Kg8,Be5', 'Qa5+,Kxf2,Bd5+', 'https://lichess.org/training/Lx6mb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lx85Y', 'Blitz', 'azzmar', 1906, 'tamatama', 2179, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,g6,exd6,cxd6,Bc4,Nb6,Bb3,Bg7,c3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Nc6,Bf4,e5,dxe5,dxe5,Bg3,Kh8,Nd2,f5,Rad1,Qf6,Nc4,Nxc4,Bxc4,Rae8,Rfe1,e4,Qe2,f4,Bh2,h5,Rd5,Ne5,Bb5,Re7,Red1,a6,Ba4,Nd3,Bc2,Qc6,Rg5,Nxb2,Rdd5,Qxc3,Bb3,Qc1+,Rd1,Nxd1,Rxh5+,Bh6,Rxh6+,Kg7,Rxg6+,Kxg6,Qg4+,Kf6,Qh4+,Kg6,Qg4+,Kh7,Qh5+,Kg7,Qg5+,Kh8', 'Qh6+,Rh7,Qxf8#', 'https://lichess.org/training/Lx85Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lXb7E', 'Rapid', 'MichelettoAttendolo', 1715, 'RemRus', 1716, 'd4,d5,c4,dxc4,Nf3,Nf6,Nc3,a6,e4,b5,a4,b4,Na2,a5,Bxc4,Ba6,b3,Nxe4,Qd3,Bxc4,bxc4,Nf6,d5,e6,O-O,Na6,Be3,Bc5,Ne5,Bxe3,fxe3,Nc5,Qd4,Qd6,Nc1,O-O,g4,exd5,cxd5,Nxd5,Nc4,Qe6,h3,Ne4,Ne2,Rad8,Qe5,Qxe5,Nxe5,Nxe3,Rf4,Ng5,h4,Nh3+,Kh2,Nxf4,Nxf4,Rd2+,Kg3,f6,Nf3,Nf1+,Kh3,Rc2,Rxf1,b3,Nd4,Rb8,Nxc2,bxc2,Rc1,Rb3+,Kg2,c5,Nd5,Rb4', 'Nxb4,cxb4,Rxc2', 'https://lichess.org/training/lXb7E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lXC08', 'Rapid', 'Mihail_Tal_91136', 2053, 'gaminggamer98', 2105, 'd4,Nf6,c4,e6,g3,d5,Nf3,c5,dxc5,Bxc5,cxd5,Qxd5,Bg2,Qxd1+,Kxd1,O-O,Nc3,Nc6,e3,Rd8+,Kc2,e5,a3,Bf5+,Kb3,Na5+,Ka4,a6,Kxa5,Bd7,Na4,Nd5,Nxe5', 'b6+,Nxb6,Bxb6#', 'https://lichess.org/training/lXC08');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxCEp', 'Rapid', 'Runacus', 1633, 'Rndrps', 2006, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,Bg4,g3,c6,Bg2,e6,Bf4,Qd8,O-O,Be7,h3,Bh5,Qd2,Bxf3,Bxf3,O-O,Rad1,Nbd7,Rfe1,Nd5,Nxd5,cxd5,a3,b5,Qd3,a6,c3,Nb6,Qc2,Rc8,Ra1,Nc4,Be2,Nd6,Bxd6,Qxd6,Bd3,g6,Re5,Bf6,Re3,Bxd4,Rf3,e5,Bf1,e4,Rf4,Be5,Rh4,Bf6,Rf4,h5,Rd1,Be5,Rxe4,Bxg3,Red4,Bh2+,Kh1,Bf4,Rxd5,Qf6,Bg2,Bb8,Qd3,Qxf2,Rd2,Qg3,Qxg3,Bxg3,Rd7,a5,Rb7,Rb8,Rdd7,b4,axb4,axb4,cxb4,Rbc8,Bd5,Rc2', 'Bxf7+,Kh7,Bb3+', 'https://lichess.org/training/lxCEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LxDV3', 'Rapid', 'Iunior', 1795, 'mattdeck', 1804, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,d5,Bg5,h6,Bh4,Nbd7,e4,dxe4,fxe4,e5,dxe5,Nxe5,Qxd8+,Kxd8,Bxf6+,gxf6,Kd2,Be6,b3,Ke7,Kc2,Rad8,Nd5+,Bxd5,exd5,c6,a3,Bc5,b4,Bd4,Rd1,Be3,d6+,Rxd6,Rxd6,Kxd6,c5+,Ke6,Ne2,Rd8,h4,Rd2+,Kc3,Rd3+,Kb2,Nc4+,Kc2,Rxa3,Rh3,Bf2,Nf4+,Kf5,Nd3,Ne3+,Kb2,Ra4,Rf3+,Ke4,Rxf2,Nd1+,Kb3,Nxf2,Nxf2+,Ke3,Ng4+,Kf4,Nxh6,Ra1,Bd3,Rh1,Nxf7,Rxh4,Nd8,Kg3,Nxb7,Kxg2,Nd8,Rh3,Kc2,Kf2,Nxc6,a6,Bxa6,f5,Bc8,Rh5,Nd4,f4,c6,f3,Bg4,Rh6,b5,Ke3,Kc3,f2,Be2,Rd6,c7,Rxd4,Bf1,Rd1,c8=Q', 'Rc1+,Kb4,Rxc8', 'https://lichess.org/training/LxDV3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxEjO', 'Rapid', 'eyescanhardlysee', 1738, 'sauron7', 1725, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,c6,Be3,Nf6,h3,O-O,Qd2,Nbd7,O-O-O,a5,a3,b5,g4,b4,axb4,axb4,Nb1,Ne4,Qe2,Ba6,Qe1,Bxf1,Rxf1,Ra1,Nd2,Ndf6,Nb3,Ra6,Qe2,Qa8,Qf3,Nd7,h4,Qa7,h5,c5,dxc5,Ndxc5,Bxc5,Bxc5,Rxd5,Re6,Qf5,Bxf2,Ra5,Be3+,N1d2,Bxd2+,Nxd2,Qe3', 'Qxf7+,Rxf7,Ra8+,Re8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/lxEjO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lxek0', 'Rapid', 'Deathmaster_Rdx', 1869, 'smeagle_99', 1917, 'e4,c5,Nf3,d6,Bc4,e6,c3,Nf6,d3,a5,a4,Be7,Bg5,Nbd7,Nbd2,b6,d4,Bb7,Bb5,O-O,e5,dxe5,dxe5,Nd5,Bxe7,Qxe7,Ne4,Rfd8,Qc2,Nf4,O-O,Nf8,Rad1,N8g6,g3,Nh3+,Kg2,Ngf4+,Kh1,Nd5,Kg2,Nhf4+,gxf4,Nxf4+,Kh1,f5,exf6,Bxe4,Rxd8+,Rxd8,fxe7', 'Bxf3+,Kg1,Nh3#', 'https://lichess.org/training/Lxek0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxf6S', 'Rapid', 'mahesh10', 1651, 'Adrian1896', 1670, 'd4,d5,c4,e6,c5,b6,b4,Nc6,a3,a5,b5,Na7,Qa4,bxc5,dxc5,Bxc5,b6+,Bd7,Qxa5,Bxb6,Qd2,Nc6,Qf4,Nf6,Bb2,Ba5+,Bc3,Bxc3+,Nxc3,O-O,e3,e5,Qf3,d4,Nd5,Nxd5,Qxd5,dxe3,fxe3,Ra5,Qf3,Re8,Bc4,Be6', 'Qxc6,Bxc4,Qxc4', 'https://lichess.org/training/lxf6S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LxfsK', 'Rapid', 'RookPawnBishop', 1753, 'BlaBlaTrips', 1845, 'e4,e5,Nf3,d6,Bc4,Qf6,O-O,h6,Nc3,c6,d4,Nd7,a3,Ne7,Be3,Nb6,Bb3,Be6,d5,cxd5,exd5,Bg4,Nb5,Kd7,Bxb6,axb6', 'Nxe5+,dxe5,Qxg4+', 'https://lichess.org/training/LxfsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxfxr', 'Blitz', 'kukonosau', 2100, 'honzarusnak', 2233, 'd4,e6,e4,b6,c4,Bb7,Bd3,Bb4+,Kf1,d5,exd5,exd5,c5,bxc5,a3,Ba5,dxc5,c6,Qg4,Qf6,Nf3,Nd7,Bf5,Nxc5,Bg5,Ba6+,Kg1,Qxb2,h3,Qxa1,Kh2,Bc7+,g3,Qb2,Nbd2,Nf6,Re1+,Kf8,Qh4,h6,Be3,Nce4,Nxe4,Nxe4,Bc5+,Bd6,Bxd6+,Nxd6,Qe7+,Kg8,Re2,Re8', 'Qxe8+,Nxe8,Rxe8#', 'https://lichess.org/training/lxfxr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lXGAC', 'Rapid', 'moeXtr', 1614, 'badhon007', 1609, 'd4,d5,Nc3,Nf6,Nf3,Nc6,Bf4,Bg4,Nb5,e5,dxe5,Nd7,e6,Qf6,Nxc7+,Kd8,Nxa8,Qxf4,exd7,Kxd7,Qxd5+,Bd6,e3,Qb4+,c3,Qxb2,Qxf7+,Ne7,Rd1,Qxc3+,Rd2,Rxa8,Bb5+,Kc7,Qc4+,Qxc4,Bxc4,Bb4,O-O,Bxf3,Rb2,Bd5,Rxb4,Nc6,Ra4,Rd8,Bxd5,Rxd5,h3,b5,Rf4,Rd7,Re1,Kb6,e4,Ne5,Kh2,Rd2,a3', 'Nd3,Rh4,Nxe1', 'https://lichess.org/training/lXGAC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lXGfX', 'Rapid', 'mohamedmahmoud2020', 1777, 'Kudosam', 1803, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,a6,Qb3,Qf6,d4,exd4,cxd4,Na5,Qc3,Nxc4,Qxc4,c6,Nc3,b5,Qd3,Bb4,O-O,Bxc3,bxc3,Ne7,e5,Qg6,Qxg6,Nxg6,Re1,O-O,Ba3,Re8,Bd6,Bb7,a4,Nf4,axb5,cxb5,Nd2,Nxg2,Re2,Nf4,Re3,Nd5,Rg3,Rec8,Bc5,Nf4,Re1,a5,Ne4,Bxe4,Rxe4,Ne6,Bd6,a4,Ba3,Nc7,Reg4,g6,h4,Nd5,h5,Rxc3,hxg6,Rxg3+,Rxg3,f6,exf6,Nxf6,f4,d5,f5,Re8,Rc3,Re1+,Kf2,Ne4+', 'Kxe1,Nxc3,f6', 'https://lichess.org/training/lXGfX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxGMr', 'Rapid', 'JSifraSK', 2004, 'Christopho', 1928, 'd4,Nf6,Nf3,c5,d5,b5,Nbd2,Nxd5,c4,Nf6,cxb5,a6,e4,axb5,Bxb5,Nxe4,Nxe4,Qa5+,Nc3,Ba6,Bxa6,Qxa6,Qd5,g6,Qxc5,Bg7,Qb5', 'Bxc3+,bxc3,Qxb5', 'https://lichess.org/training/lxGMr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LXGxu', 'Rapid', 'bmmohsenshawer', 1901, 'hologogoloh', 1867, 'e4,d6,d4,Nf6,Bd3,e5,Bg5,Be7,Nf3,Nbd7,d5,c6,Bxf6,Nxf6,c4,cxd5,cxd5,a6,O-O,b5,Nc3,Bd7,Rc1,Rc8,Ne2,O-O,h3,Qa5,a3,b4,axb4,Qxb4,Ng3,Bb5,Ng5,h6,Nf3', 'Rxc1,Qxc1,Bxd3', 'https://lichess.org/training/LXGxu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LxI5F', 'Classical', 'HilikaDahan', 1662, 'NathanGeovane', 1714, 'd4,Nf6,c4,e6,Nc3,d5,f3,Be7,Bf4,O-O,Qc2,Nbd7,e4,dxe4,fxe4,c5,Rd1,cxd4,Rxd4,Qb6,Nf3,e5,Rxd7,Nxd7,Nxe5,Nxe5,Bxe5,Qe3+,Be2,Bg4,Nd5,Qxe2+,Qxe2,Bxe2', 'Nxe7+,Kh8,Kxe2', 'https://lichess.org/training/LxI5F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LxIe5', 'Rapid', 'mjkv90', 1787, 'X_omar_x', 1778, 'e4,c5,Nf3,e6,c3,Nc6,d4,cxd4,Nxd4,Nxd4,cxd4,d5,exd5,exd5,Bb5+,Bd7,Qa4,Nf6,Bg5,Be7,Bxf6,Bxf6,Bxd7+,Qxd7,Qxd7+,Kxd7,O-O,Bxd4,Nd2,Bxb2,Rab1,Bc3,Nf3,h6,Rxb7+,Kc6,Rxf7,g5', 'Rc1,Kd6,Rxc3', 'https://lichess.org/training/LxIe5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxIin', 'Rapid', 'Mlnrbjn', 1952, 'Empty_Chess', 2019, 'e4,c5,Nf3,Nc6,c3,d5,d4,dxe4,Nfd2,f5,Bb5,e6,O-O,Nf6,Na3,cxd4,cxd4,Bxa3,bxa3,Bd7,Nb3,O-O,Bg5,h6,Bxf6,Rxf6,d5,Ne7,Bxd7,Qxd7,dxe6,Qxe6,Nc5,Qc6,Rc1,Rc8,Nb3,Qe8,Rxc8,Qxc8,Qd2,Nc6,Rc1,Qf8,Nc5,Rd6,Qf4,b6,Nb3,Qd8,h3,Rd1+,Rxd1,Qxd1+,Kh2,Qd5,g4,fxg4,Qxg4,Qe5+,Kg2,Ne7,Nd2,e3,fxe3,Qxe3,Nf3,Qe2+,Kg3,Kh7', 'Ng5+,hxg5,Qxe2', 'https://lichess.org/training/lxIin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxipn', 'Classical', 'vovapar', 1700, 'whitelordRU', 1720, 'e4,g6,Nc3,Bg7,Bc4,h6,d4,a6,Nf3,b6,Bf4,Bb7,O-O,e6,e5,Ne7,Nd2,d6,Nde4,Nd7,exd6,Nf5,dxc7,Qh4,Bg3,Nxg3,Nd6+,Ke7,Nxb7,Nxf1,d5,Qxc4,dxe6,fxe6', 'Qd6+,Kf7,Qxd7+', 'https://lichess.org/training/lxipn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lXJ77', 'Rapid', 'ABtheLEGEND', 1753, 'lelebaby', 1777, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Qe7,Bb5,O-O,Bxc6,bxc6,Nxe5,Bb7,O-O,d6,Nc4,d5,Na5,Rab8,Nxb7,Rxb7,Qf3,dxe4,Bxf6,Qxf6,Qxf6,gxf6,dxe4,Rxb2,f3,Rxc2,Rfc1,Rxc1+,Rxc1,Rb8,Rxc6,Rb7,a4,Kg7,a5,Kg6,a6,Rb6,Rxc7,Rxa6,Kf2,Kg7,Kg3,Kg6,h4,h5,Kf4,Ra5,Rc6,Kg7,g4,hxg4,fxg4,Rb5,Ra6,Rb7,e5,fxe5+,Kxe5,f6+,Rxf6', 'Rb5+,Ke6,Rb6+', 'https://lichess.org/training/lXJ77');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxjnP', 'Rapid', 'roca11115', 1972, 'gpenrosa', 1957, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,f3,O-O,Be2,b6,O-O,a5,Na3,Ne5,Nac2,Ba6,Bxa6,Rxa6,Qe2,Raa8,Rad1,N7g6,f4,Nc6,a3,a4,Nb4,Nxd4,cxd4,Bxb4,axb4,Qe7,Bd2,Rfc8,f5,Nf8,f6,Qd6,Bf4,Qxb4,fxg7,Ng6,Bh6,a3,bxa3,Rxa3,Qf2,Qe7,e5,d6,Rfe1,Rb8,Qf5,b5,Bg5,Qe6,Qxe6,fxe6,exd6,cxd6,Rxe6,Kxg7,Rxd6,Rb7,Bf6+,Kh6,h4,Kh5,Re1,Nxh4,Re5+,Kg4,Re4+,Kf5,Rxh4,Ra1+,Kh2,Rd1,Be5,b4,Rf6+,Kg5,Kh3', 'Rh1+,Kg3,Rxh4', 'https://lichess.org/training/lxjnP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lXjwq', 'Rapid', 'hasim0049', 1755, 'friedrich1', 1745, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,d3,Qf6,Nbd2,Ne7,b3,O-O-O,Bb2,Ng6,h3,Bxf3,Nxf3,Bd6,d4,exd4,Bxd4,Be5,Nxe5,Nxe5,c3,Qg5,f4,Qe7', 'fxe5,c5,Qg4+', 'https://lichess.org/training/lXjwq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LxLbl', 'Blitz', 'LeoFrank08', 1962, 'Julio_esteban11', 1673, 'g4,c6,Nf3,Na6,d3,b6,Bf4,Bb7,Bg2,Rc8,Qd2,Rc7,Nc3,Qc8,Qe3,Qb8,Be5,Qa8,Qf4,c5,Bxc7,f6,Nd5,Qc8,Qe4,Qa8,Qxe7+,Bxe7,Nxe7,Kxe7,Nd2,Ke8,Ne4,Ne7', 'Nd6+,Kf8,Bxb7,Qxb7,Nxb7', 'https://lichess.org/training/LxLbl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lxluh', 'Blitz', 'Toooobi', 1541, 'MustafaSezer', 1581, 'e4,e5,g3,d5,Bg2,dxe4,Bxe4,Nf6,Bg2,Bg4,Bf3,Bxf3,Qxf3,Nc6,Nc3,Bd6,Nge2,Qe7,O-O,O-O-O,d3,g5,Be3,Rdg8,Nd5,Nxd5,Qxd5,h5,d4,e4,c4,h4,c5,hxg3,fxg3,Bxg3,hxg3,Rh3,Rxf7,Rgh8,Rxe7', 'Rh1+,Kg2,R8h2#', 'https://lichess.org/training/Lxluh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LxNVK', 'Rapid', 'Climb512', 2246, 'GodlikeChess', 2364, 'd4,Nf6,Nf3,d5,g3,c5,Bg2,cxd4,O-O,Nc6,Nxd4,e5,Nxc6,bxc6,c4,Bc5,Bg5,Bb7,Bxf6,Qxf6,cxd5,cxd5,Bxd5,Bxd5,Qxd5,Rc8,Nc3,Qe7,Rac1,O-O,Ne4,Rfd8,Qb3,Rb8,Qf3,Bd4,b3,Rb6,h4,Ra6,a4,Rb6,Rfd1,h6,Kg2,Qe6,Rd3,Qg6,e3,f5,Nc5', 'e4,Qf4,exd3', 'https://lichess.org/training/LxNVK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LXNwf', 'Blitz', 'EulogioCG', 1644, 'CarloSiro', 1579, 'e4,e5,Bc4,Bc5,Qf3,Nf6,g4,O-O,Nc3,d6,d4,Bxd4,Na4,Bxg4,Qb3,Nxe4,f3,Qf6,Be2,Qh4+,Kd1,Nf2+,Kd2,Qg5+,Ke1,Qh4,fxg4,Nxh1+,Kd2,Qf2,c3,Be3+,Kc2,Qxg1,Qxb7,Nd7,Qf3,Bxc1,Rxc1,Nc5,Rxg1,Nxa4,Qxh1,Rab8,b3,Nc5,h4,a5,g5,a4,h5,axb3+,axb3,Rxb3,g6,h6,Qd5,Rfb8,Qxf7+,Kh8,Kd2,Rb2+,Ke3,R2b3,Rf1,Rxc3+,Kd2', 'Ne4+,Ke1,Rb1+,Bd1,Re3#', 'https://lichess.org/training/LXNwf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LxnwL', 'Blitz', 'jpuigru1', 1513, 'touji', 1548, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,Nh4,Bg6,Nxg6,hxg6,Bd3,Bd6,Bxd6,Qxd6,g3,Nc6,c3,O-O-O,Qb3,Kb8,Ba6', 'Na5,Qb5,Qxa6,Qxa6,bxa6', 'https://lichess.org/training/LxnwL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxpro', 'Blitz', 'David_Ancheta12', 2319, 'NM chessmaniac3298', 2314, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,O-O,Be7,Qd3,O-O,Rd1,Nbd7,Nd5,Bxd5,exd5,b5,f3,Nb6,Bg5,Nbxd5,a4,Qb6+,Kh1,bxa4,Rxa4,h6,Bh4,Nf4,Qd2,Ne4,Rxe4,Bxh4,g3,Nxe2,Qxe2,Be7,f4,Qc6,Qg2,f5,Ree1,Qxg2+,Kxg2,e4,Nd4,Bf6,Nxf5,Bxb2,Nxd6,a5,Rxe4,a4,Nc4,a3,Nxb2,axb2,Rb1,Rfb8,Kf3,Ra1,Ree1,Ra3+,Re3,Ra1,Ree1,Rba8,Ke3', 'Re8+,Kf2,Rxe1', 'https://lichess.org/training/lxpro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxpvL', 'Blitz', 'Chandon2020', 2035, 'hello239', 2026, 'e4,c5,b3,e5,Bb2,d6,Bb5+,Bd7,Bxd7+,Nxd7,f4,Ngf6,Nf3,Nxe4,O-O,Be7,fxe5,dxe5,Nxe5,Nxe5,Bxe5,O-O,Nc3,Nxc3,Bxc3,b6,Qg4,f6,Rae1,Bd6,Re3,Qc7,Rh3,Kh8,Qg6,h6,Rxf6,Bf4,Rc6,Qf7,Qxh6+,Bxh6', 'Rcxh6+,Kg8,Rh8#', 'https://lichess.org/training/lxpvL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LXtbO', 'Rapid', 'YATHARTH011212', 1700, 'Salvadora2000', 1757, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qc7,Nf3,Bg4,Bc4,e6,O-O,a5,Re1,Nf6,Qe2,Be7,h3,Bh5,g3,Nbd7,Bf4,Bd6,Bxe6,fxe6', 'Qxe6+,Kd8,Bxd6', 'https://lichess.org/training/LXtbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LXvka', 'Classical', 'sakkmati', 1616, 'quiensea', 1665, 'e4,e5,Nf3,Bc5,Nc3,Nc6,Bb5,d6,O-O,a6,Ba4,b5,Bb3,Nf6,d3,Na5,Bg5,h6,Bh4,Nxb3,axb3,Be6,Nd5,g5,Nxf6+,Qxf6,Bg3,Bg4,h3,Bxf3,Qxf3,Qxf3,gxf3,Kd7,c3,Raf8,Rxa6,f5,Kg2,Rhg8,exf5,Rxf5,Ra5,b4,cxb4,Bxb4,Ra4,Bd2,Rd1,Bf4,d4,h5,dxe5,Bxe5,Re4,Bf4,Rdd4,h4,Bxf4,gxf4+,Kf1,Rb8,Rxf4,Rxf4,Rxf4,Rxb3,Rxh4,Rxf3,Kg2,Rb3,Rh7+,Kc8,h4,Rxb2,h5,Re2,Kg3,Kd8,f4,c5,Rh6,Kd7,Kg4,c4,Rh7+,Kc6,h6,c3,Ra7,c2,Ra1,Rd2,Rc1,d5,Kg5,d4', 'h7,Rh2,Rxc2+,Rxc2,h8=Q', 'https://lichess.org/training/LXvka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LxW6f', 'Rapid', 'KajS', 1709, 'xadrez_maicom', 1636, 'e4,b6,Bc4,Bb7,Nc3,e6,Qf3,Nf6,d3,Nc6,Bg5,Ne5,Qf4,Nxc4,Bxf6,Qxf6,Qxf6,gxf6,dxc4,Bb4,O-O-O,Bxc3,bxc3,Bxe4,f3,Bb7,Ne2,Ba6,Rd4,c5,Rh4,d5,Re1,Bxc4,Kb2,a5,a4,Bxe2,Rxe2,Ke7,c4,d4,c3,e5,f4,dxc3+,Kxc3,Ke6,fxe5,f5,Rh6+,Ke7,Rf6,Rad8,Rxf5,Rhg8,g3,Rd4,Ref2,Rg7,h4,Rxg3+,Kb2,Rxc4,Rxf7+,Ke6,Rxh7,Rb4+,Kc1,Kxe5,Re2+,Kd4,Rd2+,Kc3,Rc2+,Kd3,Rd7+,Ke3', 'Rc3+,Kf4,Rf7+,Ke5,Rxg3', 'https://lichess.org/training/LxW6f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lXwg3', 'Rapid', 'tergires', 1902, 'assura27', 1956, 'd4,c5,dxc5,e6,Nf3,Bxc5,Bf4,Nf6,Nc3,O-O,e3,d5,a3,a6,Bd3,Nbd7,O-O,b5,b4,Ba7,Ne5,Bb7,Nxd7,Nxd7,Bd6,Re8,Qh5,Nf6,Qe5,Qd7,Qg3,Bb8,Bxb8,Raxb8,Rad1,Rbc8,Ne2,e5,c3,e4,Bb1,Re6,f3,Nh5,Qg5,Rh6,fxe4,Qc7,exd5,Nf6,d6,Qc6,Nf4,Ne4,Bxe4,Qxe4,d7,f6,dxc8=Q+,Bxc8,Rd8+,Kf7,Rxc8,fxg5,Nd5+,Ke6', 'Re8+,Kd6,Rxe4', 'https://lichess.org/training/lXwg3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LXwRM', 'Rapid', 'NimzoFishbait', 2002, 'classAvenger', 1833, 'd4,Nf6,Nc3,d5,Bf4,c6,e3,e6,Bd3,Be7,h4,Nbd7,g4,Nf8,g5,N6d7,Nf3,Ng6,Bg3,Nb6,h5,Nf8,Bf4,Bd6,Ne5,f6,gxf6,gxf6,Qg4,Qe7,Nf3', 'e5,Qg2,exf4', 'https://lichess.org/training/LXwRM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxxjk', 'Classical', 'RoqueAntonioCantero', 1684, 'Juancintra556', 1663, 'd4,Nf6,c4,d5,Nc3,e6,e3,c5,Nf3,Nc6,Be2,Be7,O-O,O-O,h3,h6,b3,Qc7,Rb1,e5,Qc2,dxc4,bxc4,exd4,exd4,cxd4,Nd5,Qd6,Nxe7+,Qxe7,Qd3,Rd8,Re1,g6,Bf1,Qd6,Bxh6,Bf5,Qd2,Ne4,Qc1,Ng3,Rxb7,Nxf1,Kxf1,Rab8,Rxb8,Rxb8,Qf4,Qxf4,Bxf4,Rb1,Rxb1,Bxb1,a3,d3,Ke1,Na5,Nd2,Ba2,c5,Kf8,Ne4,Ke7,Bd6+,Kd7,Kd2,Bb1,Nc3,Bc2,g4,Nc4+,Ke1,d2+,Ke2,Kc6,Bf4,Kxc5,Bxd2,Nxa3,Na2,Nc4,Be3+,Kb5,Bxa7,f5,g5,Ne5,Nc3+,Ka6,Bb8,Nf7,f4,Kb7,Be5,Kc6,Kd2,Bb3,Ne2,Bd5,Nd4+,Kc5,Ke3,Bg2,h4,Nxe5,fxe5,Kd5,e6,Kd6,Kf4,Bd5,e7,Kxe7,Ke5,Bf7,Nc6+,Ke8,Kf6,f4,Ne5,Kf8,Nd3,f3,Ke5,Bc4,Nf2,Ba6', 'Kf6,Bb5,Kxg6', 'https://lichess.org/training/lxxjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LXxVw', 'Rapid', 'Nutsacjac', 1682, 'yarvind', 1670, 'd4,c5,e4,cxd4,Nf3,Nc6,Bb5,d6,Nxd4,Bd7,Be2,g6,O-O,Bg7,c3,Nf6,Bf3,O-O,Na3,a6,Nc4,Rc8,Be3,Nxd4,Qxd4,Rb8,Nb6,Bc6,Nc4,Ng4,Qd3,Nxe3,Nxe3,Qb6,b3,Rbc8,Rac1,a5,Nc4,Qa6,a4,b5,Nxd6,Rcd8,axb5,Bxb5,Qxb5,Qxd6,Qxa5,Ra8,Qg5,Rab8,b4,Bf6,Qe3,Rfc8,Rfd1,Qc7,g3,Rd8,Rxd8+,Rxd8,c4,Bd4,Qf4,Qb6,b5', 'Bxf2+,Kg2,Be3', 'https://lichess.org/training/LXxVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lxYnp', 'Rapid', 'NemkeCufa', 1809, 'yemidaniel', 1803, 'd4,h6,e4,a6,e5,e6,Nf3,d5,Nc3,c5,Be3,c4,b3,cxb3,axb3,Bd7,Nb5,Nc6,Nd6+,Bxd6,exd6,Nf6,Bd3,Qb6,O-O,O-O,c4,dxc4,bxc4,Qd8,c5,Nd5,Ne5,Nxe5,dxe5,Bc6,Qh5,f5,Qg6,Qe8,Qg3', 'f4,Qg4,fxe3', 'https://lichess.org/training/lxYnp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ly0k1', 'Rapid', 'Ted123544', 1955, 'BamBoozle77', 1982, 'd4,d5,Nf3,Nc6,e3,Bg4,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,Qf6,Be2,Nge7,h3,Bxf3,Bxf3,O-O,cxd5,exd5,O-O,Rad8,Rb1,b6,a4,Nf5,Qb3,Nce7,Ba3,Rfe8,e4,Nh4,Be2,dxe4,Kh1,Qg5,Rg1,Nef5,Bc4,Nd6', 'Bxd6,cxd6,Bxf7+', 'https://lichess.org/training/ly0k1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lY1GZ', 'Classical', 'TellingStage', 1704, 'mrgoldenfold', 1748, 'e4,e5,Nf3,d6,Bc4,Qe7,Nc3,Be6,Bxe6,Qxe6,Nd5,Na6,Qe2,c6,Nc3,O-O-O,d4,exd4,Nxd4,Qe5,Be3,c5,Ndb5,Kb8,Qc4,f5,O-O-O,Nf6,exf5,Nh5,g4,Nf6,Bf4,Qe8,Nxd6,Bxd6,Bxd6+,Ka8,Bxc5,Nxc5,Rxd8+,Qxd8,Qxc5,Nxg4,Rd1,Qg5+,Kb1,a6,h3,Nf6,a3,Kb8,Qe7,Re8,Rd8+,Rxd8,Qxd8+,Ka7,b4,Qg1+,Kb2,Qxf2,b5,Qxf5', 'b6#', 'https://lichess.org/training/lY1GZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LY4pr', 'Rapid', 'Hakkicatli', 1794, 'Gracq', 1800, 'd4,Nf6,d5,d6,c4,Bf5,Nc3,g6,b4,Bg7,Bb2,Ne4,Qa4+,c6,Qb3,Nxc3,Bxc3,Bxc3+,Qxc3,O-O,dxc6,Nxc6,Nf3,Qb6,b5,Na5,e3,Be6,Ng5,Rac8,Nxe6,fxe6,Be2,d5,c5,Rxc5,Qd4,Rfc8,O-O,Nc4,a4,Qd6,Bxc4,Rxc4,Qxa7,Qe5,Qxb7,Qxa1', 'Qxc8+,Rxc8,Rxa1', 'https://lichess.org/training/LY4pr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LY4Wy', 'Rapid', 'CrapCrusher', 1958, 'oomid', 1952, 'Nf3,d5,b3,Nf6,Bb2,Bf5,g3,e6,Bg2,h6,d4,c5,c4,dxc4,bxc4,cxd4,Qa4+,Nbd7,Nxd4,Qb6,Qb5,Bb4+,Bc3', 'Bxc3+,Nxc3,Qxd4', 'https://lichess.org/training/LY4Wy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lYABR', 'Rapid', 'radhialharazi', 1836, 'WinoPL', 1817, 'd4,d5,Bf4,Nf6,h3,e6,e3,Bd6,c3,O-O,Nf3,b6,Be2,Bb7,Nbd2,c5,O-O,Bxf4,exf4,cxd4,Nxd4,Nc6,N2f3,Re8,Ne5,Nxe5,fxe5,Ne4,Bd3,Nc5,Bc2,Qg5,f4,Qh4,Nb5,Ba6,Nc7,Bxf1,Qxf1,Rac8,Nxe8,Rxe8,b4,Ne4,Bxe4,dxe4,Re1,Qg3,Rxe4,Qxc3,a4,h6,Qb5,Rc8,a5,Qa1+,Kh2,Rc1,Qe8+,Kh7,Qxf7,Rh1+,Kg3,Qc3+,Kh4,Qd3,axb6,Qxe4,bxa7,Ra1,b5,Rxa7,Qxa7,Qxf4+,g4,Qxe5,b6,Kg6,b7', 'Qe1+,Qf2,Qxf2#', 'https://lichess.org/training/lYABR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lYaVP', 'Rapid', 'tenniser', 1792, 'HSJHage', 1835, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,Nc3,Nxd4,Qxd4,Bxb5,Nxb5,Nf6,Qa4,Nd7,Be3,a6,Nc3,b5,Qd4,Rc8,Bh6,Ne5,Bf4,Qc7,O-O,Qc4,Bxe5,dxe5,Qxe5,b4,Nd5,f6,Qe6,Rc6,Qf5,Kf7,Rad1', 'e6,Qf3,exd5', 'https://lichess.org/training/lYaVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LyB19', 'Rapid', 'aconeni', 2386, 'Thanos_universe50', 2307, 'd4,d5,Bf4,Nf6,e3,g6,Nc3,Bg7,h4,c6,Be2,h5,Nf3,O-O,Ne5,Qb6,a3,Nbd7,f3,Nxe5,Bxe5,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/LyB19');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lYbdn', 'Rapid', 'Halil_Cem', 1886, 'mega_mich', 1921, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,e5,Bxe5,Nc3,Nc6,Nf3,Bg7,Bc4,e6,Qd6,Qe7,Nb5,Qxd6,Nxd6+,Ke7,Bf4,e5,O-O-O,exf4,Rhe1+,Kf8', 'Re8#', 'https://lichess.org/training/lYbdn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lybxc', 'Rapid', 'Chebor', 1902, 'Lipinigorio', 1900, 'Nf3,f5,g3,Nf6,e3,e6,Bg2,d5,c3,Bd6,Qc2,O-O,d3,c5,b3,Nc6,Bb2,Bd7,Nbd2,Rc8,O-O,d4,c4,Nb4,Qb1,a5,a3,Nc6,e4,fxe4,Nxe4,Nxe4,dxe4,e5,Bc1,Bg4,Ng5,h6,Bh3,Bxh3,Nxh3,Qd7,Kg2,Rf7,Qc2,Rcf8,Ra2,g5,Ng1,g4,Qe2,Rf3,Nxf3', 'gxf3+,Qxf3,Rxf3', 'https://lichess.org/training/lybxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lycfc', 'Rapid', 'alireza3737', 1956, 'Alan09', 2013, 'e4,c5,Bc4,Nc6,c3,Nf6,d3,d6,Bg5,e6,Ne2,Be7,Nd2,Ne5,Qc2,a6,O-O-O,b5,Bb3,c4,dxc4,bxc4,Nxc4,Nxc4,Bxc4,O-O,e5,Ng4,Bxe7,Qxe7,exd6,Qg5+,Rd2,Nxf2,Rg1,Bb7,g3,Ne4,Nf4,Nxd2,Qxd2,e5,Nd5,Qxd2+,Kxd2,Bxd5,Bxd5,Rad8,c4,Rxd6,Kc3,g6,b4,Kg7,a4,f5,h4,e4,b5,Re8,Kb4,e3,Re1,Kf6,Kc5,Rd7,Bc6,Rc7,Kb6,Ree7,Kxa6,g5,Bd5,Ra7+,Kb6,Rxa4,Kc6,gxh4,gxh4,f4,Kd6,Raa7,b6,Rad7+,Kc5,Re5,Kc6,Ke7,b7,Rd6+,Kb5,Rexd5+,cxd5,Rxd5+,Kb6,Rd2,Rb1,Rd8,Kc7,Rd7+,Kc6,Rd8,b8=Q', 'Rxb8,Rxb8,e2', 'https://lichess.org/training/lycfc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lyD04', 'Rapid', 'tafino', 1639, 'Isti86', 1790, 'e4,e5,Nf3,d6,c3,f5,Qc2,Qf6,d4,fxe4,Qxe4,Bf5,Qe3,Nc6,Bb5,Ne7,dxe5,Qe6,O-O,a6,Ba4,Nd5,Qe2,b5,Bb3,Na5,Nd4,Qf7,Nxf5,Nxb3,exd6+,Kd7,axb3,Qxf5,Re1,cxd6,Na3,Be7,Be3,Nxe3,Qxe3,Bg5,Qg3,Rhe8,Red1,Re6,Qd3', 'Re1+,Rxe1,Qxd3', 'https://lichess.org/training/lyD04');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LYd3m', 'Rapid', 'YureMota', 1720, 'yoshimurafael', 1874, 'e4,c5,Nf3,Nc6,g3,e6,Bg2,d5,exd5,exd5,Qe2+,Be7,O-O,Nf6,c3,O-O,d4,Bg4,Be3,b6,Nbd2,Ne4,Rfe1,Qd7,Qb5,Rac8,Nxe4,dxe4,Ng5,Bxg5,Bxg5,Bf3,Bxf3,exf3,Re3,Qg4,Bf4,g5,Bd6,Rfd8,dxc5,Qh5,Qc4,g4,Re4,Qh3,Rxg4+,Kh8,Qd4+,Nxd4', 'Be5+,f6,Bxf6#', 'https://lichess.org/training/LYd3m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lYE9f', 'Rapid', 'Ansarad', 1849, 'FightTillTheEnd', 1839, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,Qc7,Bb3,Nbd7,O-O,Nc5,Bc4,b5,Nd5,Nxd5,Bxd5,Bb7,Bxb7,Qxb7,f3,e6,Be3,Ke7,Qd2,f6,Rac1,Kf7,c4,b4,Rfd1,Be7,b3,Rhd8,Nc2,a5,Nd4,a4,Ra1,d5,exd5,exd5,Qc2,axb3,axb3,g6,Nb5,dxc4,Qxc4+,Ne6,Nd4,Qb6,Nf5,Rxd1+,Rxd1,Qc7', 'Nh6+,Kf8,Qxe6', 'https://lichess.org/training/lYE9f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LyelC', 'Rapid', 'kwaku_j_h', 1691, 'Professorskak', 1838, 'd4,d5,Bf4,c6,Nf3,e6,e3,Bd6,Bxd6,Qxd6,Bd3,Nf6,h3,Nbd7,c3,O-O,Nbd2,a6,a3,b6,O-O,c5,dxc5,bxc5,Re1,Rb8,Qc2,Ne5,Nxe5,Qxe5,Nf3,Qd6,e4,dxe4,Bxe4,Nxe4,Rxe4,Bb7,Rd1', 'Bxe4,Rxd6,Bxc2', 'https://lichess.org/training/LyelC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LYGa2', 'Classical', 'Weerasekara', 1971, 'Tomberg_Dmitry', 2191, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,a6,Bf4,Nf6,Bd3,O-O,O-O,b5,a3,Bb7,Re1,c5,d5,c4,Bf1,Nbd7,Nd4,Nc5,f3,Qc7,Kh1,Rae8,Qd2,e5,dxe6,fxe6,e5,Nh5,exd6,Qd7,Be3,Qxd6,Qf2,Ne4,Nxe4,Bxe4,Qg1,Bd5,Rad1,Qc7,Be2,Nf4,Bf1,Qb7,Ne2,Nxe2,Bxe2,Bxb2,Bc5,Rf5,h3,Bc3,Rf1,Be5,Rfe1,Bg3,Rf1,h5,Rd2,Qc7,Be3,Qa5,Rfd1,Qxa3,Bc5,Qa4', 'Ra1,Qxa1,Qxa1', 'https://lichess.org/training/LYGa2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lYH0i', 'Rapid', 'Tat7_Noway', 2084, 'aquillegotutiburon', 2002, 'e4,c5,c3,Nc6,d3,e6,Be2,Nf6,h3,Be7,Nf3,Qc7,Nbd2,d5,Qc2,a6,Nf1,O-O,Bd2,b5,Rc1,Bb7,Qb1,Rac8,N1h2,Rfd8,O-O,dxe4,dxe4,Bd6,Be3,Ne5,Nxe5,Bxe5,f4,Nxe4,fxe5,Qxe5,Bd3,Ng3,Bf4,Qd5,Rf2', 'Qxd3,Qxd3,Rxd3,Bxg3,Rxg3', 'https://lichess.org/training/lYH0i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LyH3R', 'Rapid', 'maxazinovic', 1655, 'chessplayer111222', 1684, 'e4,e5,Nc3,c5,g3,Nc6,Bg2,Nf6,Nge2,Be7,Nd5,Nd4,Nxd4,cxd4,Nxf6+,Bxf6,d3,d6,O-O,Be6,f4,Qa5,Bd2,Qb5,b3,Rc8,fxe5,dxe5,a4,Qc5,Ra2,Rc6,b4,Qb6,a5,Qb5,Rb2,b6,axb6,Qxb6,Qa1,O-O,b5,Rc5,Bb4,Rxc2,Bxf8,Rxb2,Bxg7,Rxg2+,Kxg2,Bxg7,Qb2,a6,Ra1,axb5', 'Ra8+,Bf8,Qb4,Bh3+,Kxh3', 'https://lichess.org/training/LyH3R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LyHuX', 'Classical', 'cdrth', 1765, 'Toniprime', 1801, 'e4,e6,e5,d5,d4,c5,c3,Nc6,Bb5,Ne7,Nf3,c4,b3,cxb3,axb3,a6,Bxc6+,Nxc6,O-O,Be7,Be3,O-O,g3,Bd7,h4,Rc8,Qd3,Qc7,Bg5,h6,Bxe7,Nxe7,Ra5,Bb5,Rxb5,axb5,Qxb5,Qc6,Qb4,Rfe8,Rc1,Ra8,Nbd2,Ng6,c4,Ra6,Rc3,Rea8,cxd5,Qxd5,Rc7,Ra1+,Kh2,b5,Qd6,Rd1,Rd7,Qxd6,exd6,Nf8,Rc7,Rd8,Rc6,f6,Ne4,Kf7,Nc5,Ra1,Ng1,Rd1,Nf3,Rc1,Kg2,Nd7,Ng1,e5,Rc7,Ke8,b4,Rb1,dxe5,fxe5,Ne6,Rxb4,Nxg7+,Kf7,Nf5,Kg6', 'Ne7+,Kf7,Nc6', 'https://lichess.org/training/LyHuX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LyjIS', 'Rapid', 'Aona', 2065, 'Kazan_master', 2388, 'd4,f5,c4,Nf6,g3,e6,Bg2,Be7,Nf3,O-O,b3,Ne4,Bb2,Bf6,O-O,c5,Nbd2,Nc6,e3,d5,Rb1,Qa5,cxd5,exd5,dxc5,Qxa2,Bxf6,Rxf6,Nxe4,dxe4,Nd4,Ne5,f3,Qa3,fxe4,Qxc5,exf5,Rb8,Rc1,Qb6,Qc2,Nc6,Nxc6,Qxe3+,Kh1,bxc6,Bxc6', 'Rxc6,Qxc6,Bb7,Qxb7,Rxb7', 'https://lichess.org/training/LyjIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lyJUU', 'Rapid', 'kulje', 2095, 'Newan48', 2010, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,a3,Nge7,c3,Ng6,Re1,Be7,d4,Qc7,Qa4,O-O,Be3,cxd4,cxd4,a6,Rc1,Rac8,Nc3,Qd7,h3,Nb8,Qb3,Rc6,Bg5,Rfc8,Bxe7,Nxe7,h4,Rc4,Kh2,Nf5,Qd1,Qd8,g3,Qb6,Na4,Qa7,Rxc4,Rxc4,Rc1,b5,Nc5,Nc6,Nb3,Qc7,g4,Nfe7,Nbd2,Rxc1,Qxc1,h6,Nb3,Qb7,Nc5,Qa7,b4,a5,Qc3,axb4,axb4,Qa2,Nd2,Ng6,Nxe6', 'fxe6,Qxc6,Qxd2,Qxe6+,Kh7', 'https://lichess.org/training/lyJUU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lYKaw', 'Rapid', 'iHateRBF', 1785, 'ChretienCathalXXXXIX', 1669, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,Nd7,cxd5,cxd5,Nxd5,e6,Nc3,Ngf6,Bg5,Bb4,a3,Ba5,b4,Bb6,e3,Rc8,Na4', 'Bc2,Qd2,Bxa4', 'https://lichess.org/training/lYKaw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LYlJ3', 'Classical', 'avatargs', 1709, 'PeonLento', 1745, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,a6,Ba4,Nf6,d3,Be7,O-O,O-O,Be3,Be6,Nbd2,b5,Bb3,Bxb3,Nxb3,d5,Nc5,dxe4,Nxe4,Nxe4,dxe4,Na5,Nxe5,Bd6,Bf4,Nc4,Nc6,Qd7,Bxd6,cxd6,Qd5,Nxb2,e5,Nc4,Rfd1,Rac8,Nb4,Nxe5', 'Qxe5,dxe5,Rxd7', 'https://lichess.org/training/LYlJ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LyLsd', 'Rapid', 'TsekaTseka', 2088, 'rook333', 1846, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Qc7,O-O,Nf6,Nc3,b5,Bg5,Be7,Qe2,d6,a3,Bb7,h3,Nbd7,Kh1,O-O,Rad1,Rac8,f4,Rfe8,Nf3,Nc5,e5,dxe5,fxe5,Nfd7,Qe3,Nxd3,cxd3,Bxg5,Qxg5,Bxf3,Rxf3,Qxe5,Qg4,Nf6,Qh4,Rcd8,d4,Qh5,Qf2,Nd5,Ne4,e5,Rf1,exd4,Ng3,Qg6,Qxd4,f6,Qa7,Ne3', 'Rxe3,Rxe3,Qxe3', 'https://lichess.org/training/LyLsd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LYlY4', 'Rapid', 'william5626', 1821, 'danjunio25', 1692, 'd4,d5,Bf4,Nc6,e3,g6,Bb5,Bg7,Bxc6+,bxc6,c3,Nf6,Qa4,Bb7,Qa5,Rc8,Qxa7,Ba8,Nf3,O-O,Nbd2,Nh5,Bg5,h6,Bh4,g5,Bg3,Nxg3,hxg3,Re8,Qa4,e5,dxe5,Qe7,Qg4,c5,O-O,Bxe5,Nxe5,Qxe5,Nf3,Qe6,Qh5,d4,exd4,Bxf3,Qxf3,cxd4,cxd4,Qb6,Qc3,Rcd8,Rfd1,Re4,d5,Re2,Qd4', 'Re1+,Rxe1,Qxd4', 'https://lichess.org/training/LYlY4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lymDK', 'Classical', 'nn2535', 1759, 'Gebra', 1628, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Nc3,O-O,O-O,Bc5,Nxc6,bxc6,Bg5,Be7,Qf3,d6,a3,Ng4,Bxe7,Qxe7,h3,Ne5,Qe2,Nxc4,Qxc4,Qd7,b4,Bb7,f4,d5,exd5,cxd5,Qd4,Rfe8,Rad1,c6,a4,a6,a5,f5,Na4,Qf7,Nc5,Re7,Rfe1,Rae8,Qf2,Bc8,Kf1,Rxe1+,Rxe1,Rxe1+,Qxe1,g6,Qe5,Qf8,Qc7,h6,Qxc6,g5,Qxd5+,Qf7,Qxf7+,Kxf7,fxg5,hxg5,Kf2,Ke7,g3,Kd6,Ke3,Kd5,h4,gxh4,gxh4,Ke5,Nd3+,Kf6,c4,Kg6,Kf4,Kh5,Ne5,Kxh4,Ng6+,Kh5,Ne7,Bd7,Nxf5,Kg6,Nd6,Kf6,c5,Ke7,Ke5,Kd8,Nc4,Kc7,Kd4,Bb5,Kd5,Bc6+,Ke5,Bb5,Ne3,Bc6,Nd5+,Kd7,Nf6+,Kc7,Ke6,Bb7,Ng4', 'Bc8+,Ke5,Bxg4', 'https://lichess.org/training/lymDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LYmrd', 'Rapid', 'mselmanc', 1673, 'KansuNadir', 1680, 'd4,d5,c4,Nf6,Nc3,Bf5,Bg5,e6,cxd5,exd5,Bxf6,gxf6,Nf3,Bb4,e3,Nc6,Bb5,Qe7,a3,Bxc3+,bxc3,Qd6,O-O,O-O-O,c4,dxc4,Bxc4,Bg6,Nd2,h5,Nb3,h4,h3,Rhg8,a4,Qb4,Bd3,f5,a5,Rg7,a6,b6,g4,fxg4,Bxg6,Rxg6,Qd3,gxh3+,Kh2,Rg2+,Kxh3,Rdg8,Qf5+,Kb8,Qxf7,Qxb3,Qxb3,Ne7,Qb5,c6,Qe5+,Kc8,Qe6+,Kd8,Qd6+,Ke8,Qb8+,Kf7,Qxa7,R2g7,Qxb6,Nf5,Qc7+,Kg6,Rg1+,Ng3,Rxg3+,hxg3,Qxg3+,Kf7,Qf4+,Ke7,Qe5+,Kd7,Qf5+,Kc7,Rb1', 'Rh8+,Qh7,Rhxh7#', 'https://lichess.org/training/LYmrd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lynFc', 'Rapid', 'olivierthierry', 1677, 'joesber', 1952, 'd4,d5,c4,e6,a3,b6,Nc3,Nf6,Nf3,Bb7,Bg5,Nbd7,cxd5,exd5,e3,a6,Bd3,Bd6,O-O,h6,Bh4,g5,Bg3,Ne4,Bxd6,Nxd6,Re1,f5,Nd2,Nf6,f3,Qd7,e4,dxe4,fxe4,Ndxe4,Ndxe4,fxe4,Bxe4,Nxe4,Nxe4,O-O-O,Qc2,Qxd4+,Kh1,Rhf8,Rad1,Bxe4,Qxe4,Qxd1', 'Qa8+,Kd7,Rxd1+', 'https://lichess.org/training/lynFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LyqxV', 'Rapid', 'EKA7777', 1727, 'sori-7', 1817, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,O-O,Bg4,d3,h5,Be3,Bb6,h3,Be6,Nc3,Qf6,Bxb6,cxb6,Na4,h4,c4,Qg6,Kh2,O-O-O,Qe2,f5,Nxe5,Qf6,exf5,Bxf5,Rad1,Nh6,Nc3,Rhe8,f4,Nf7,d4,c5,dxc5,Nxe5,Rxd8+,Kxd8,Rd1+,Kc8,fxe5,Rxe5,Qf3,Rxc5,b3,g6,Nd5,Qe5+,Qf4', 'Rxd5,Qxe5,Rxe5', 'https://lichess.org/training/LyqxV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LyQyW', 'Blitz', 'Chessmate1964', 2280, 'furkoska', 2226, 'd4,Nf6,Bg5,e6,e3,h6,Bh4,d5,Nd2,b6,c3,Bb7,Bd3,Be7,Bxf6,Bxf6,f4,Nd7,Ngf3,Qe7,Ne5,O-O-O,Qa4,Bxe5,fxe5,Kb8,Nf3,f6,exf6,gxf6,O-O,Rdg8,Rae1,h5,e4,Qg7,Rf2,Rh6,e5,fxe5,Nxe5,Nxe5,Rxe5,h4,Qc2,Bc8,Qe2,Rf6,Re3,Qg5,Rxf6,Qxf6,Rf3,Qg5,Qf1,Qd2,Rf2,Qg5,Qe1,Rg7,Qd2,Qg4,Rf8,Kb7,Qe2,Qg5,Ba6+,Kc6,Bxc8,Qc1+,Rf1,Qg5,Qxe6+,Kb5,Qe2+,Kc6,Bh3,Re7,Qf2,Re3,Qf4,Qe7,Qf5,Kb7,Qc8+,Kc6,Qa8+,Kb5,Qxd5+,Ka6,Qc4+,Kb7,Qd5+,Ka6,Bg4,Re1,Bf3', 'Qe3+,Kh1,Rxf1#', 'https://lichess.org/training/LyQyW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LyrU6', 'Rapid', 'astradi555', 1962, 'Schokotiger', 1896, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,h3,O-O,O-O,d6,a3,a6,b4,Ba7,d3,b5,Bb3,h6,Qe2,Nh7,Be3,Kh8,Bxa7,Rxa7,Nd5,f5,exf5,Bxf5,a4,Nf6,axb5,axb5,Rxa7,Nxa7,Ne3,Bd7,Nd2,Nc6,c3,Ne7,Kh2,Bc6,f4,Nfd5,Nxd5,Nxd5,Bxd5,Bxd5,fxe5,Re8,d4,dxe5,dxe5,c6,Re1,Qg5,Nf3,Qf4+,Kg1,Re6,Qe3,Qg3,Qf2,Qg6,Nd4,Re8,Re3,Kg8,Kh2,Rf8,Qg3,Qxg3+,Kxg3,g6,h4,Re8,Ne2,Kf7,Nf4,g5,hxg5,hxg5,Nxd5,cxd5,Kg4,Ke6,Rf3,Kxe5', 'Re3+,Kd6,Rxe8', 'https://lichess.org/training/LyrU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LYTtg', 'Rapid', 'Atomic-202', 1855, 'WhiteKing92', 1642, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Nd5,d3,Nf4,Bxf4,exf4,Ne4,Bb4+,c3,Bd6,b4,O-O,bxa5,Ba6,O-O,Be7,Bc2,c5,Na3,f5,Bb3+,Kh8,Nd2,Bxd3,Re1,Re8,Bc4,Bxc4,Ndxc4,Bf6,Rxe8+,Qxe8,Rc1,Rd8,Qf3,h6,Qxf4', 'Bg5,Qxf5,Bxc1', 'https://lichess.org/training/LYTtg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LYuyn', 'Rapid', 'marcbouhana58', 1623, 'starkned', 1655, 'e4,c5,Nc3,e6,Nf3,a6,d4,cxd4,Nxd4,Qc7,Nf3,Nc6,a3,Nge7,Bg5,Ng6,Nd4,Nxd4,Qxd4,Qa5,Be2,Qxg5,O-O,Ne5,f4,Qd8,fxe5,Qc7,Qf2,Bc5,Qxc5,Qxc5+,Kh1,Qxe5,Rf3,d5,exd5,O-O,dxe6,Bxe6,Re1,Rac8,Rff1,Qc7,Bd3,b5,Re4,Qb7,Rh4,g6,Ne4,Bd5', 'Nf6+,Kg7,Rxh7#', 'https://lichess.org/training/LYuyn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LYV98', 'Classical', 'NoeNoeNoe', 1763, 'ahmed_bms_99', 1742, 'e4,e5,f4,d5,exd5,Qxd5,Nc3,Qc5,Nf3,Nc6,Bb5,Bd7,Qe2,Bd6,Bxc6,Bxc6,Nxe5,O-O-O,Nxf7', 'Re8', 'https://lichess.org/training/LYV98');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LyVuy', 'Rapid', 'liudvikassla', 1693, 'sebali', 1717, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Bc4,Nc6,Nxc6,Bxc6,Qf3,Nf6,Nc3,Be7,Bg5,O-O,O-O-O,a6,Nd5', 'Nxd5,Bxd5,Bxg5+', 'https://lichess.org/training/LyVuy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LYWgf', 'Blitz', 'djfdjf', 1895, 'klopspill', 1890, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Bb5+,Nc6,O-O,Bd7,h3,e6,c4,a6,cxd5,Nxd5,Bxc6,Bxc6,Nc3,Nxc3,bxc3,Bd6,Ne5,Bxe5,dxe5,O-O,Qg4,Kh8,Bg5,Qd5,Be7,Rfe8,Bd6,Rg8,Rfe1,Rad8,c4,Qa5,Re3,Qd2,Qh5,Qc2,Qxf7,Qxc4,Rg3,Qd4,Rf1,Rd7,Qh5,Bb5,Rg4,Qd3,Re1,Qf5,Rg5,Qd3,Re3,Qb1+,Kh2,Qf1,Reg3,Qxf2', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/LYWgf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lyXhu', 'Bullet', 'king12345678910', 2157, 'IM Alexr58', 2439, 'Nf3,d5,d3,Nc6,g3,Bg4,Bg2,Qd7,O-O,Bh3,Nbd2,Bxg2,Kxg2,h5,h4,f6,e4,O-O-O,exd5,Qxd5,c3,e5,Qe2,Nge7,Qe4,g6,Qxd5,Nxd5,Nc4,b5,Ne3,Nxe3+,Bxe3,Rxd3,a4,b4,cxb4,Nxb4,Bxa7,c5,Rac1,Na6,b4,Nxb4,Bxc5,Bxc5,Rxc5+,Kd7,Rb1,Rb8,a5,Ra3,Rc4,Nc6', 'Rd1+,Nd4,Nxd4', 'https://lichess.org/training/lyXhu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lYxIH', 'Rapid', 'aydinkara', 1745, 'reiufrj', 1738, 'd4,d5,c4,Bf5,Nf3,Bg6,cxd5,Qxd5,Nc3,Qd8,Bf4,a6,e3,Nc6,Bc4,e6,O-O,Bd6,Bxd6,cxd6,Re1,Nf6,e4,O-O,e5,dxe5,dxe5,Qxd1,Raxd1,Ne8,Rd7,b5,Bb3,Na5,Nh4,Nxb3,axb3,Bc2,b4,Bb3,Re3,Bc4,Re4,f6,exf6,Nxf6,Rxc4,bxc4,Rd6,e5,Nf3,e4,Ne5,Rfe8,Nxc4,e3,Nxe3,Red8,Rb6,Rd2,b3,Rb2,b5,a5,Ra6,Rxa6,bxa6,Rxb3', 'a7,Rxc3,a8=Q+', 'https://lichess.org/training/lYxIH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LYYlB', 'Rapid', 'Gruzman', 1914, 'rycerz424', 1863, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be3,O-O,Qd2,Bg4,h3,Bxf3,gxf3,Nc6,O-O-O,e5,d5,Ne7,Bh6,c6,Bxg7,Kxg7,Bc4,cxd5,Nxd5,Nexd5,Bxd5,Nxd5,Qxd5,Qd7,Qxe5+,dxe5,Rxd7,b5,Rhd1,h5,R7d5,f6,Rxb5,Kh6,h4,g5,hxg5+,Kxg5,Rg1+,Kf4,Rb3,Rab8,Rxb8,Rxb8,Rg3,h4,Rh3,Rh8,c4,f5,exf5,Kxf5,c5,a5,a3,Kg5,b4,axb4,axb4,Rb8,f4+,exf4,Rb3,Kg4,c6,f3,c7,Rc8,Rc3,h3,Kb2', 'h2,Rc1,Rxc7,Rxc7,h1=Q', 'https://lichess.org/training/LYYlB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LyzD1', 'Rapid', 'theramkingslayer', 1605, 'francard', 1607, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,O-O,a6,Bxc6+,bxc6,d4,Nf6,Nbd2,g6,c3,Bg7,Qa4,Bb7,Ne5,Qc7,Ndf3,O-O,Bf4,Qc8,Ng5,Nd7,Nexf7,Rxf7,Nxf7,Kxf7,c4,Kg8,cxd5,cxd5,Qb4,e6,Qd6,Nf8,Rac1,Qd8,Qb4,Ra7,Bc7,Qd7,Bb6,a5,Bxa5,Ra6,Qd2,Qa4,b4,Bc6,Ra1,Bb5,Rfe1,Nd7,Qg5,Bxd4,Qd8+,Kg7,Qe7+,Kh6', 'Qh4+,Kg7,Qxd4+', 'https://lichess.org/training/LyzD1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZ0DL', 'Blitz', 'peopholmes', 1519, 'Hephistos', 1637, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,Ne7,Qe2,Nc6,Nxd5,Be6,Nxe7,Qxe7,Bg5,f6,Be3,O-O-O,O-O-O,Bxa2,b3,Ba3+,Kd2,Qb4+,c3,Qxb3,Ne1,Ne5,Nc2,Nc4+', 'Qxc4,Qxc4,Bxc4,Bxc4,Nxa3', 'https://lichess.org/training/LZ0DL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZ0Oc', 'Rapid', 'Footbalint', 1905, 'gajardo07', 1955, 'e4,e6,d4,d5,Nd2,c5,Ngf3,Nc6,Bb5,Bd7,exd5,Nxd4,Bxd7+,Qxd7,Nxd4,cxd4,dxe6,Qxe6+,Qe2,Qxe2+,Kxe2,Rc8,Kd3,Bc5,Nb3,b6,Re1+,Kd7,Nxc5+,bxc5,Bf4,Nf6,Re5,Ng4,Rd5+,Kc6,Rd6+,Kb5,Bg3,Rhe8,h3,Ne5+,Bxe5,Rxe5,Rd7,Rce8,Rxf7,Re2,Rb7+,Ka6,Rf7,Kb6,Rc1,Kc6,Rf1,Kd5,Rxg7', 'c4#', 'https://lichess.org/training/LZ0Oc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZ1ty', 'Rapid', 'Breg64', 1819, 'smgsmg21', 1856, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,Nc6,Nf3,Bd7,Bd3,Be7,O-O,h6,Qc2,Bg5,Re1,Bxc1,Raxc1,O-O,e5,Ne7,c4,Bc6,Be4,Bxe4,Qxe4,c6,Red1,Nf5,d5,cxd5,cxd5,Qb6,d6,Rfd8,Rc7,Rab8,h3,f6,exf6,Rxd6,f7+,Kf8,Rdc1,Ne7,Ne5,Rbd8,Ng6+,Nxg6,Qxg6,Rd1+,Rxd1', 'Rxd1+,Kh2,Qxc7+', 'https://lichess.org/training/LZ1ty');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZ1x2', 'Rapid', 'davidmatthewa', 1897, 'matthew110', 2013, 'd4,g6,e4,Bg7,Be3,Nf6,f3,d6,Nc3,O-O,Qd2,Nbd7,O-O-O,c5,dxc5,dxc5,Bh6,a6,Bxg7,Kxg7,h4,b5,h5,Qc7,hxg6,fxg6,Qh6+,Kg8,Nd5,Qe5,Nxf6+,Nxf6,Bd3,Rf7,Bc4,Be6,Bxe6,Qxe6,Nh3,Qxa2,Ng5,Qa1+,Kd2,Rd8+', 'Ke2,Rxd1,Rxd1,Qxd1+,Kxd1', 'https://lichess.org/training/LZ1x2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lZ5nU', 'Blitz', 'Uygar118', 2038, 'ULUGNYN', 1838, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,h3,h6,Nf3,Bd6,O-O,O-O,Re1,c5,c3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Qf3,Re8,Bd2,Rxe1+,Bxe1,Qe7,Nd2,Bb7,Nb3,Re8,Bd2,Bb8,Re1', 'Qxe1+,Bxe1,Rxe1+,Bf1,Ba6', 'https://lichess.org/training/lZ5nU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lz6mO', 'Rapid', 'Imre2004', 1837, 'Temboja', 1830, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Bf5,Bc4,e6,Bd2,c6,Nge2,Nf6,Nd5,Qd8,Nxf6+,Qxf6,Be3,Nd7,Ng3,Bg6,Bd3,O-O-O,O-O,Bd6,Ne4,Qe7,Nxd6+,Qxd6,c4,Nb6,c5,Qd5,cxb6,axb6,Bxg6,hxg6,Qa4,Qh5,Qa8+,Kd7,Qxb7+,Ke8,Qxc6+,Rd7,h3,g5,Qxb6,g4,Qb8+,Ke7,Qg3,f5,a3,g5,f4,gxf4,Rxf4,Kf6,Kf2,Rc7,Rd1,gxh3,Rd2', 'h2,Rh4,Qxh4,Qxh4+,Rxh4', 'https://lichess.org/training/lz6mO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lz7HM', 'Rapid', 'rosenj8', 1718, 'garylla', 1808, 'e4,d5,exd5,Qxd5,Nc3,Qd7,Nf3,f5,Bc4,Qc6,Ne5,Qxg2,Bd5,Qg5,Nf3,Qg2,Ne5,Qg5,d4,Qf6,Bf7+,Kd8,Nd5,Qh4,Be6,Bxe6,Qd3,Bxd5,Bf4,Bxh1,Qb5,Qxf4', 'Nf7+,Kc8,Qe8#', 'https://lichess.org/training/lz7HM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lz7XS', 'Blitz', 'chessstrategy', 2192, 'LM Bikfoot', 2216, 'g3,d6,Bg2,Nf6,d4,g6,c4,Bg7,Nc3,O-O,e4,c6,Nge2,Nbd7,O-O,e5,d5,a5,h3,Nc5,Be3,Bd7,Qd2,Rb8,Rad1,Qc8,Kh2,Ne8,b3,f5,exf5,Bxf5,dxc6,bxc6,Bxc5,dxc5,Na4,Nf6,Qxa5,Ne4,Nec3,Ra8,Qb6,Rb8,Nxe4,Rxb6,Nxb6,Qc7,Na4,Ra8,Nexc5,Bf8,Rd2,Qa5,Bxc6,Qxd2,Bxa8,Qxa2,Bd5+,Kh8,g4,Bc2,Ne6,Bd6,c5,Bb8,c6,Bxb3,Bxb3,Qxb3,Nac5,e4+,c7,Bxc7+,Nxc7,Qc4,Rd1,h6,N7e6,Qe2,Rd8+,Kh7,Rd7+,Kh8,Rf7,h5,gxh5,gxh5,Nd7,Qa6,Nf6,Qxe6', 'Rh7#', 'https://lichess.org/training/Lz7XS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lz8VT', 'Blitz', 'laskerkenitra', 2145, 'kalebrior', 2010, 'e4,e6,d4,a6,c4,d5,Nc3,dxe4,Nxe4,Bb4+,Nc3,c5,d5,exd5,cxd5,Ne7,Bd2,O-O,Bc4,Re8,Nge2,b5,Bb3,Bxc3,Bxc3,c4,Bc2,Nxd5,Qd4,Nxc3,Qxc3,Nc6,Rd1,Qg5,Qf3,Bg4,Qxc6,Rxe2+,Kf1,Rae8,h3,Re1+,Rxe1', 'Rxe1+,Kxe1,Qc1+,Bd1,Qxd1#', 'https://lichess.org/training/Lz8VT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lzcOe', 'Rapid', 'Azatobekzato', 1796, 'Mari_Adrian_AG', 2070, 'c4,g6,Nc3,Bg7,d4,c6,Nf3,Nf6,Bg5,a6,e3,Qc7,Bd3,O-O,O-O,d6,a3,e5,dxe5,dxe5,Qc2,Bg4,Nd2,Nbd7,Nde4,Nxe4,Nxe4,Bf5,Be7,Rfe8,Bd6,Qd8,c5,Bxe4,Bxe4,Nf6,Bd3,Qd7,Rad1,Qg4,Qb3,Qc8,Bc4,Nd5,e4,b5,Bxb5,axb5,exd5,Qb7,dxc6,Qxc6,Rfe1,Ra4,Re3,Rd4,Rde1,Rg4,Rf3,e4,Qxf7+,Kh8,h3,Rxg2+,Kxg2', 'exf3+,Qxf3,Qxf3+,Kxf3,Rxe1', 'https://lichess.org/training/lzcOe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lzcRU', 'Rapid', 'blitzfcker', 2224, 'TIGOA', 2211, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,h6,Ne4,cxb5,Nxf6+,gxf6,Qxa8,Qd7,Qf3,Bb7,Qg3,h5,h4,Rh7,f3,Rg7,Qf2,Qc6,Nc3,Bc5,Qe2,Bd4,Qxb5,Nc4,d3', 'Bxc3+,bxc3,Qxb5', 'https://lichess.org/training/lzcRU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZD0q', 'Rapid', 'Jairosmedeiros', 1959, 'yanobebo', 2020, 'c4,e6,Nc3,d5,cxd5,exd5,d4,Nf6,g3,c6,Bg2,h6,Nf3,Bg4,O-O,Nbd7,Rb1,Bf5,Ra1,Ne4,Nxe4,Bxe4,a3,Bd6,b4,Nf6,Qb3,O-O,a4,Qe7,b5,a6,Ba3,Bxa3,Rxa3,axb5,Ne5,Bxg2,Kxg2,Ne4,Qe3,Rxa4,Rxa4,bxa4,f4,Ra8,Ra1,a3,Nd3,h5,Nc5,b6,Nxe4,Qxe4+,Qxe4,dxe4,h3,f5,Kf2,b5,Ke3,b4,Kd2,Kf7,e3,Kf6,Kc2,g5,Kb3,Rb8,Kc4,Ke6,Kb3,gxf4,gxf4,Kd5,Rc1,Rb5,h4,Rb6,Rc5+,Ke6,Re5+,Kf6,Ra5,Rb5,Ra6,Ke7,Rxc6,Ra5,Rc7+,Kd6,Rc1,a2,Ra1,Ra3+,Kxb4,Rxe3,Rxa2,Rf3,Ra6+,Ke7,d5,Rxf4,Kc5,e3,Re6+,Kd7,Rxe3,Re4', 'Rxe4,fxe4,Kd4', 'https://lichess.org/training/LZD0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lzdJ1', 'Rapid', 'baa_baa', 1736, 'Fixtos88', 1698, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,Bb4,dxe5,Ng4,Bd2,Nxf2,Kxf2,Bc5+,Be3,Bxe3+,Kxe3,O-O,Bb5,Ne7,Kf2,c6,Bc4,Ng6,Re1,Re8,Ng5,d5,exd5,Qxg5,d6,Qf5+,Kg1,Rxe5,Rxe5,Nxe5,Bb3,Ng4,Qd2', 'Qc5+,Kh1,Nf2+,Qxf2,Qxf2', 'https://lichess.org/training/lzdJ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZerV', 'Rapid', 'daaarek666', 1838, 'almoneer', 1954, 'd4,d5,c4,c5,dxc5,d4,e3,e5,exd4,exd4,Nf3,Bxc5,Bd3,Nf6,O-O,O-O,Bg5,Bg4,Nbd2,h6,Bh4,g5,Bg3,Nc6,a3,a5,Qc2,Kg7,Ne5,Nxe5,Bxe5,Bd6,Rfe1,Bxe5,Rxe5,Qd6,Rae1,Rae8,Rxe8,Rxe8,Rxe8,Nxe8,Bf5,Bh5,g4,Bg6,Bxg6,Qxg6,Qe4,Qxe4,Nxe4,Nf6,f3,Nxe4,fxe4,Kf6,Kf2,Ke5,Kf3,b6', 'b4,axb4,axb4', 'https://lichess.org/training/LZerV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lzf3s', 'Rapid', 'mileAdam', 1829, 'Natalika', 1873, 'e4,e6,d4,d5,exd5,exd5,c3,c5,Be3,cxd4,Bxd4,Nc6,Be3,Nf6,Bb5,a6,Bxc6+,bxc6,h3,a5,Nf3,Ba6,Qa4,Bb5,Qh4,Be7,a4,Ba6,Qg3,O-O,Nd4,Rc8,Nd2,Bd6,f4,Re8,Kf2,Ne4+,Nxe4,Rxe4,Nf5,Bf8', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/lzf3s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lzGpt', 'Rapid', 'siroos1342', 1743, 'AmbrosiAndrea', 1700, 'c4,g6,d3,Bg7,Nf3,d6,e3,b6,Be2,Bb7,O-O,Nd7,d4,e6,Nc3,Ne7,Bd2,h6,h3,g5,Nh2,Nf5,Bg4,Nh4,Bf3,Nxf3+,Nxf3,g4,hxg4,h5,gxh5,Rxh5,Nh2,Qh4,f3,Qxh2+,Kf2,Qh4+,Ke2,Qg5,Rf2,O-O-O,e4,Qg6,Be3,Rdh8,Qd2,f5,exf5,Qxf5,g4,Bxf3+,Rxf3,Qxg4,Rf1,Rh2+,Bf2,Bxd4,Qf4,Qg7,Kd3,Be5,Qe4,Nc5+,Bxc5,bxc5', 'Qa8+,Kd7,Rf7+,Qxf7,Rxf7#', 'https://lichess.org/training/lzGpt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LzhGz', 'Blitz', 'larsgjerde', 1544, 'Slaydi', 1606, 'd4,d6,c4,Nc6,Nc3,g6,Bg5,Bg7,Nf3,Nf6,e4,Bd7,e5,dxe5,dxe5,Ng4,Bf4,Qc8,Nd5,Ngxe5,Nxe5,Nxe5,Bxe5,Bxe5,Qe2,Bf6,g3,O-O,Nxf6+,exf6,O-O-O,Kg7,h4,a6,Bg2,Rb8,Bf3,b5,cxb5,Bxb5,Qc2,c5,h5,c4,hxg6,fxg6,Bd5,Qg4,Qc3,Rbd8,Rd4,Qg5+,Kb1,Rxd5,Rdh4,h5,g4,Bc6,gxh5,Rd3,h6+,Kh7,Qxc4,Bxh1,Rxh1,Rfd8', 'Qf7+,Kh8,Qg7#', 'https://lichess.org/training/LzhGz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LzHOi', 'Rapid', 'Mantiskaridesi', 1810, 'MrDom2', 1774, 'e4,e5,Nf3,d6,Bc4,Qf6,Be2,Be7,d4,Qg6,dxe5,dxe5,Nxe5,Qxg2,Rf1,Qxe4,Nc4,Be6,Nc3,Bb4,Nd2,Qe5,Nf3,Bxc3+,bxc3,Qxc3+,Bd2,Qf6,Bg5,Qc3+,Bd2,Qc6,Rb1,Nf6', 'Bb5,O-O,Bxc6', 'https://lichess.org/training/LzHOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZIzJ', 'Classical', 'Chessplayer1523', 1776, 'VichoSalinas', 1895, 'e4,e5,d4,exd4,Bc4,Nc6,Ne2,Bb4+,c3,dxc3,bxc3,Bc5,Nd4,Nxd4,cxd4,Bb4+,Bd2,Bxd2+,Nxd2,d6,f4,Qh4+,g3,Qf6,Nb3,Nh6,O-O,Bh3,e5,Qf5,exd6,Bxf1,Qe1+,Kf8,Qe7+,Kg8,d7,Qf6', 'Qe8+,Rxe8,dxe8=Q#', 'https://lichess.org/training/LZIzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZjQF', 'Rapid', 'robot37', 2345, 'SacDatSht', 1883, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e4,d6,d4,O-O,Be3,e5,dxe5,dxe5,Qxd8,Rxd8,Nd5,Nxd5,cxd5,c6,Bc4,cxd5,Bxd5,Nc6,O-O-O,Bg4,Bxc6,bxc6,Rxd8+,Rxd8,Nd2,a6,Kc2,Rb8,f3,Be6,b3,Rc8,Kc3,f5,Bc5,f4,Nc4,Rd8,Rc1,Bxc4,bxc4,Bf8,Bxf8,Kxf8,Rb1,a5,Rb7,Kg8,Re7,Rd1,Rxe5,Rg1,Rxa5,Rxg2,Kd4,Rxh2,Ke5', 'Rh5+,Kd6,Rxa5', 'https://lichess.org/training/LZjQF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LzJu1', 'Rapid', 'Mehrajuddin', 1951, 'Not_Chinese-0', 1970, 'e4,a5,d4,e6,Bd3,d5,c3,dxe4,Bxe4,Nf6,Bg5,c5,d5,exd5,Bxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/LzJu1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lzkgi', 'Blitz', 'Spidiro', 2227, 'NM mkoganov', 2193, 'c4,d6,Nc3,e5,e4,Nc6,d3,Be7,Be2,Nf6,Nf3,O-O,O-O,Bg4,h3,Bxf3,Bxf3,Nd4,Be3,c5,Bxd4,cxd4,Nd5,Nxd5,cxd5,Qb6,Bg4,g6,Qb3,Qxb3,axb3,h5,Bf3,a6,Rfc1,Rac8,Rc4,Rxc4,bxc4,Kg7,b4,Kf6,b5,axb5,cxb5,Rc8,Ra7,Rc7,b6,Rd7,g4,Kg5,Kg2,h4,Bd1,Bd8,Ba4,Re7,Ra8,Bxb6,Rb8,Bc5,Bb5,Kf4,Bc4,f5,f3,Ke3,exf5,gxf5,gxf5,Rg7+,Kf1,Kxf3,Rh8,Rg2,Rxh4,Bb4,Bb3,Rf2+,Kg1,Rb2,Bd1+,Kg3,Rg4+,Kxh3,Rg7,Bd2,f6,Be3+,Kf1,Rf2+,Ke1,Rxf6,Rxb7,Kg3,Be2,Kf4,Rg7,Rh6,Rg4+,Kf5,Rg8,Rh1+,Bf1,Bg5,Rf8+,Kg4,Kf2,Rh2+,Bg2,Be3+,Kf1,Rh5', 'Bf3+,Kh4,Bxh5', 'https://lichess.org/training/Lzkgi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZL93', 'Blitz', 'CM zim36', 2431, 'Miggabyte', 2045, 'd4,c5,Nf3,cxd4,Nxd4,Nc6,Nb3,d6,Nc3,g6,e4,Bg7,Be3,Nf6,Be2,O-O,O-O,Be6,f3,a6,Qd2,Nd7,Bh6,Qb6+,Kh1,Na5,Bxg7,Kxg7,Qd4+,Qxd4,Nxd4,Nc6,Nxe6+,fxe6,Bc4,Kf7,f4,b5,Bb3,Nc5,f5,Nxb3,axb3,exf5,exf5,Nd4,fxg6+,Kxg6,Rfc1,Rf2,Kg1,Raf8,Rxa6,Nxc2,Nxb5,Ne3,h3,Rxg2+,Kh1,Rff2,Rg1,Rxg1+,Kxg1,Rxb2,Nd4,Nf5,Ne6,Rxb3,Ra4,Rxh3', 'Nf4+,Kf6,Nxh3', 'https://lichess.org/training/LZL93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lZLkz', 'Rapid', 'Amansapu', 1822, 'sunidhi_singh28', 1625, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Bc4,Nc6,h3,Bh5,Ne5,Nxe5,Qxh5,Nxc4,Qb5+,c6,Qxc4,e6,O-O,Nf6,d4,Be7,Bg5,O-O,Rfe1,h6,Bxf6,Bxf6,Ne2,Qb6,b3,c5,Rad1,cxd4,Nxd4,Qa5,b4,Qb6,Nxe6,fxe6', 'Rxe6,Qxe6,Qxe6+', 'https://lichess.org/training/lZLkz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lzmBT', 'Rapid', 'Milann', 1899, 'GMScuzzBall', 1906, 'd4,f5,c4,e6,a3,Nf6,Nc3,Be7,f3,d6,e4,e5,d5,O-O,Bd3,f4,Bd2,a5,Nge2,g5,h3,Qe8,Nb5,Na6,Qc2,c6,Nbc3,Nc5,O-O-O,a4,Kb1,Bd7,Ka2,b5,cxb5,cxb5,Nb1,Qb8,Bb4,Rc8,Qd2,Qb6,Bxc5,dxc5,Rc1,c4,Bc2,b4,Ka1,Ne8,g3,c3,Nexc3,bxc3,Nxc3,Rc4,gxf4,exf4,Rhg1,Nd6,Qxf4,Rxc3,bxc3,Nc4,Rb1,Qc5,Rb4,Nxa3,Rxg5+,Bxg5,Qxg5+,Kf7,Qh5+,Ke7,Qe5+,Kd8,Qh8+,Kc7,Qxa8', 'Nxc2+,Kb1,Nxb4', 'https://lichess.org/training/lzmBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lZmZF', 'Rapid', 'JDM53', 1736, 'Maclaren6', 1875, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,a6,f4,Nf6,h3,e6,Be3,Be7,Qd2,Qc7,O-O-O,b5,a3,Bb7,g4,O-O,g5,Nd7,Rg1,Nc5,f5,Nxd4,Qxd4,Bxe4,Nxe4', 'Nb3+,Kb1,Nxd4', 'https://lichess.org/training/lZmZF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZP0R', 'Rapid', 'CccLllZzz', 1977, 'Patzertroll', 1921, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,e5,Qd3,Be7,O-O-O,a6,Bxf6,gxf6,Nd5,Bxd5,Qxd5,Qc7,Nh4,Rc8,c3,Qc5,Nf5,Qxd5,Rxd5,Rc6,Rhd1,Rg8,g3,Kd7,Nh6,Rg7,Nf5,Rg8,Kc2,Ke6,b4,Rgc8,R1d3,b5,f4,Bf8,Kb3,R8c7,a4,bxa4+,Kxa4,Rxc3', 'Rxd6+,Bxd6,Rxd6#', 'https://lichess.org/training/LZP0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lzpc2', 'Blitz', 'Fotismega11', 1840, 'SHORTCUT', 1868, 'd4,f5,c4,e6,g3,Nf6,Bg2,d6,Nf3,Be7,Nc3,Nc6,b3,a5,Bb2,O-O,e3,Qe8,O-O,Bd8,Re1,e5,d5,Nb8,Qc2,Qh5,Nh4,Ng4,h3,Bxh4,hxg4,fxg4,gxh4,Qxh4,Ne4,Bf5,Qe2,Nd7,Ng3,Nc5,e4,Bd7,Bc1,Rf7,Be3,b6,Bxc5,bxc5,Rf1,Raf8,f3,h5,Nh1,g3,Nxg3,Qxg3,Qf2,Qg6,Qe3,Rf4,Rf2,h4,Kf1,Qg3,Ke2,h3,Bxh3,Bxh3,Re1,g5,Qd2,g4,Kd1,gxf3,Rh2,Bg4,Kc1,f2,Reh1,f1=Q+,Rxf1,Rxf1+,Kb2,Qe1', 'Qg5+,Kf7,Rh7+,Ke8,Qe7#', 'https://lichess.org/training/lzpc2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lZpYd', 'Classical', 'Gabry_Gabra_Gabbo', 1748, 'Antotr', 1779, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nc6,Bc4,b6,d4,g6,O-O,Bg7,Be3,Bg4,Bb5,a6,Bxc6+,Qxc6,d5,Qf6,Bd4,Bxf3', 'Bxf6,Bxd1,Bxg7', 'https://lichess.org/training/lZpYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LzrsF', 'Blitz', 'alessiov94', 2209, 'White1964', 2224, 'e4,Nf6,d3,d5,e5,Nfd7,d4,e6,c4,dxc4,Bxc4,Nb6,Bb3,Nc6,Nf3,Bb4+,Nc3,Nd5,Bd2,Bxc3,bxc3,O-O,a3,a5,c4,Nb6,Be3,a4,Ba2,Na5,Qd3,c5,d5,exd5,cxd5,Nb3,Rd1,Bg4,Bxb3,axb3,Bxc5,Re8,Qxb3,Nd7,Bd6,Bxf3,gxf3,Nxe5,Bxe5,Rxe5+,Kf1,Qh4,h3,Qf4,d6,Rd8,d7,Rf5,Qb6,Qc4+,Kg2', 'Rg5+,Kh2,Qf4#', 'https://lichess.org/training/LzrsF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lZSl7', 'Rapid', 'Aleksei-2006', 2142, 'nikita00134', 1993, 'Nf3,b6,g3,Bb7,Bg2,Nf6,O-O,e6,d3,Be7,Nc3,O-O,e4,d5,exd5,Nxd5,Ne4,Nd7,Bg5,N7f6,Nxf6+,Nxf6,Bf4,Bd6,Bxd6,Qxd6,Qd2,c5,Rad1,Rfd8,Qe2,Qc7,d4,cxd4,Rxd4,Rxd4,Nxd4,Bxg2,Kxg2,a6,c3,b5,Qf3,Rd8,Rd1,h6,a4,Qd7,Ra1,e5,Nc6', 'e4,Qe2,Qxc6', 'https://lichess.org/training/lZSl7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LzSQE', 'Blitz', 'igorS28', 2244, 'IvanovIvanV', 2274, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bd6,Nbd2,Ne7,Nc4,Ng6,O-O,O-O,d4,Be6,Qd3,exd4,Nxd4,Bxc4,Qxc4,Qh4,Nf3,Qh5,h3,Rfe8,Re1,Ne5,Nxe5,Qxe5,f4,Qa5,c3,Rad8,Be3,Qh5,e5,Bf8,Rf1,Rd5,Rae1,Red8,Qe4,Qh4,c4,Rd3,Bf2,Qh6,f5,Bb4,Re2,Rd2,e6,Rxe2,Qxe2,fxe6,fxe6,Re8,Bd4,Qxe6,Qf3,Bf8,Qg3,c5', 'Rxf8+,Rxf8,Qxg7#', 'https://lichess.org/training/LzSQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lzTGw', 'Classical', 'Mr_Xeroque_Rolmes', 1741, 'Panzer8293', 1741, 'e4,b6,d4,g6,Nc3,Bg7,Nf3,Bb7,Bc4,h6,Bf4,e6,Ne5,a6,O-O,g5,Qh5,Qf6,Bxg5,hxg5,Qxf7+,Qxf7,Nxf7,Kxf7,e5,Nc6,Rfe1,Nxd4,Rad1,c5,Ne4,Bxe4,Rxe4,Rh4,g4,Nh6,f3,Nxf3+,Kg2,Nxe5,Rf1+,Ke7,h3,Nxc4,Rxc4,Rf8,Rd1,Bxb2,Rb1,b5,Rxc5,Bd4,Rxg5,Rf2+,Kg3,Nf7,Kxh4,Bf6,Kg3,Nxg5,Kxf2,Nxh3+,Kg3,Ng5,Rb3,Ne4+,Kg2,Nd2,Ra3,Nc4,Rxa6,Ne3+,Kf3,Nxc2,Kf4,e5+,Kf5,Nd4+,Ke4,d6,Kd5,Ne6', 'Ra7+,Kf8,Kxe6', 'https://lichess.org/training/lzTGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZTO2', 'Blitz', 'Marte73', 1727, 'carljk', 1722, 'd4,g6,e3,Bg7,c4,e6,Nf3,b6,b4,Bb7,a4,Ne7,Bb2,a5,b5,c5,bxc6,Nbxc6,Ba3,Nb4,Bxb4,axb4,Nbd2,d5,Qb3,dxc4,Bxc4,O-O,Qxb4,Nd5,Qb3,Qc7,O-O,Rfc8,Rfc1,Qd6,h3,Rc7,Ne4,Qd7,Bb5,Qd8,Nfd2,Rac8,Rxc7,Rxc7,Bc4,Qc8,Bb5,Rc1+,Rxc1,Qxc1+,Kh2,f5,Nd6,Qxd2,Nxb7,Qxf2,Bc6,Qxe3,Bxd5,Qxd4,Bxe6+,Kf8,a5,Be5+,Kh1', 'Qa1+,Qd1,Qxd1#', 'https://lichess.org/training/LZTO2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lZtpr', 'Classical', 'snemelc', 1771, 'Razboinik00', 1846, 'd4,Nf6,Nc3,d5,Bf4,a6,e3,Nc6,a3,e6,Bd3,h6,Nf3,Nh5,Bg3,Nxg3,hxg3,Bd6,Qe2,Bd7,e4,dxe4,Nxe4,Be7,c3,Na5,Bc2,Bb5,Qd2,b6,g4,c5,dxc5,Qxd2+,Nexd2,bxc5,Be4,Rd8,O-O-O,Ba4,Bc2,Bxc2,Kxc2,Nc6,Nc4,Rd5,Rxd5,exd5,Nb6,d4,cxd4,Nxd4+,Nxd4,cxd4,Re1,Kd8,Kd3,Bc5,Nc4,Re8,Ne5,Kc7,Re4,f6,Nf3,Rxe4,Kxe4,d3,b4,Bxf2,Kxd3,Kb6,Kc4,a5,b5,Be3,a4,g6,Kd5,h5,gxh5,gxh5,Nd4,h4,Ne2,Kc7,Nd4,Kb6,Nf5,Bg5,Nd6,Ka7,Nc4,f5,Ke5,f4,Kf5', 'f3,gxf3,h3', 'https://lichess.org/training/lZtpr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lzwa0', 'Rapid', 'prithu', 1856, 'amalakhov2', 1604, 'e4,e5,Nf3,Nc6,d4,Bd6,h3,Nf6,Nc3,O-O,a3,h6,Be3,Re8,d5,Na5,Bd3,c6,Qd2,cxd5,Bxh6,gxh6,Qxh6,dxe4,Nxe4,Re6,Nfg5,Nxe4', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/Lzwa0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lZWIZ', 'Blitz', 'DarkWizard80', 1682, 'Sergiorechess', 1595, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bd2,Qa5,Bd3,Nc6,a3,Bxc3,Bxc3,Qg5,O-O,d5,Nxc6,bxc6,f4,Qh4,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Bb4,a5,Bd6,Ra6,Be5,Nxe5,fxe5,O-O,Qe2,Rb6,c3,d4,cxd4,Qxd4+,Kh1,Rxb2,Qh5,Qd2,Qf3,Qc2,Rac1,Qb3', 'Qxf7+,Rxf7,Rc8+,Rf8,Rfxf8#', 'https://lichess.org/training/lZWIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Lzxeb', 'Rapid', 'babrince', 1743, 'zagkor21', 1743, 'e4,c5,Nf3,e6,d4,cxd4,Bc4,Nc6,O-O,Qc7,Nxd4,Nf6,Re1,a6,Nc3,Bb4,Nxc6,dxc6,a3,Bd6,g3,O-O,Bf1,Bc5,Bf4,Qb6,Qd2,Qxb2,Reb1,Bxf2+,Kxf2', 'Qxc3,Qxc3,Nxe4+,Kg1,Nxc3', 'https://lichess.org/training/Lzxeb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LzXfo', 'Rapid', 'jonmaster', 1809, 'Psyman2', 1801, 'e4,d6,d4,Nf6,e5,dxe5,Bg5,Qxd4,Qxd4,exd4,Bxf6,exf6,Nf3,c5,Bd3,Bg4,O-O,Bxf3,Re1+,Be7,gxf3,Nc6,Bb5,Kd7,Bxc6+,bxc6,Nd2,Bd6,Nc4,Rae8,Kg2,Rxe1,Rxe1,Re8', 'Rxe8,Kxe8,Nxd6+', 'https://lichess.org/training/LzXfo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lZyaC', 'Blitz', 'jurisplay', 1773, 'Mattitapani', 1767, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e6,Be3,Be7,Bc4,O-O,a3,b5,Ba2,Bb7,O-O,Nc6,g4,Rc8,h4,d5,Nxc6,Bxc6,e5,Nd7,g5,Nxe5,Bd4,Qc7,f4,Ng6,Qe1,Nxf4,Be5,Bc5+,Kh2,Bd6,Bxd6,Qxd6,Qg3,e5,Rad1,d4,Nb1,Nh5,Qg4,e4+,Kg1,Ng3,Rf6,gxf6', 'gxf6+,Kh8,Qg7#', 'https://lichess.org/training/lZyaC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LzYfq', 'Blitz', 'Simen1975', 1819, 'Abhishek3', 1739, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Ng4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,h3,Nh6,Bc4,Nf5,Ne4,d5,exd6,cxd6,O-O,d5,Bxd5,Qxd5,Nc3,Qa5,Re1,Bd7,d5,Nb4,a3,Na6,Ne5,Nc5,b4,Qc7,bxc5,Rfe8,Nxd7,Qxd7,d6,b6,g4,Nh4,cxb6', 'Rxe1+,Qxe1,Nf3+,Kg2,Nxe1+', 'https://lichess.org/training/LzYfq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('LZZDI', 'Rapid', 'lazy_enigma', 1718, 'chancy98', 1713, 'e4,e5,Nf3,Nc6,Bb5,Bd6,Bxc6,bxc6,O-O,Nf6,d3,Ba6,a3,Nxe4,dxe4,Bxf1,Kxf1,O-O,Nc3,f5,exf5,Rxf5,Ne4,Qf8,Qd3,h6,Nxd6,cxd6,Be3,d5,Nh4,e4,Qd1,Rf6,Qg4,Qf7,Bd4,Rf4,Qg3,d6,b4,a5,c3,axb4,cxb4,Rf8', 'Ng6,Rf5,Nxf8', 'https://lichess.org/training/LZZDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('lZzWF', 'Rapid', 'Hinder31', 1906, 'twa', 1799, 'e4,Nc6,d4,d5,e5,Bf5,a3,e6,f4,Qh4+,g3,Qe7,Bd2,h5,h4,Nh6,Nc3,Nxd4,Bb5+,Nc6,Qxh5,a6,Bxc6+,bxc6,Qe2,Bg4,Nf3,Qd7,O-O-O,Rb8,Qxa6,Bxf3,Qa7,Rd8,Rh2,Bxd1,Kxd1,Nf5,Be1,d4,Ne4,Qd5,Ng5,d3,Qxc7,dxc2+,Kxc2,Ne3+,Kb1,Qd7,Qa5,f6,Nf3,Bd6,exd6,Qxd6,Rd2,Nc4', 'Rxd6,Nxa5,Rxd8+,Kxd8,Bxa5+', 'https://lichess.org/training/lZzWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m03CS', 'Rapid', 'hksanj', 1976, 'adet2510', 2065, 'e4,d6,Nf3,Nf6,Nc3,Nbd7,d4,e5,d5,Be7,Bb5,O-O,O-O,a6,Bd3,Nc5,h3,c6,Nh2,cxd5,exd5,Nxd3,Qxd3,Qa5,Qg3,Kh8,Bg5,Rg8,Nf3,Bf5,Nh4,Bxc2,Rac1,Bg6,Rfe1,Nh5,Qg4,Bxg5,Qxg5,Nf4,Re3,Rac8,Rg3,Nxd5,Nxg6+,fxg6,Rg4,Nxc3,Qh4,Ne2+,Kh2,Rxc1', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/m03CS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m03fm', 'Blitz', 'Smiikel', 1934, 'cimax102', 1804, 'e4,Nf6,e5,Nd5,c4,Nb6,Nf3,d6,exd6,exd6,Nc3,Bg4,a4,a5,d4,Be7,h3,Bh5,g4,Bg6,Bg2,Nc6,d5,Nb4,O-O,Nxc4,Qd4,Nc2,Qxg7,Bf6,Qh6,Nxa1,g5,Bxc3,bxc3,Nb3,Qg7,Rf8,Re1+,Kd7,h4,Nxc1', 'Bh3+,Bf5,Bxf5#', 'https://lichess.org/training/m03fm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M09HR', 'Rapid', 'Pincanopi', 1668, 'baca666', 1677, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,cxd4,cxd4,Nge7,Bb5,Nf5,Bxc6+,bxc6,O-O,Ba6,Re1,Bb4,Bd2,Qb6,Nc3,Nxd4,Nxd4,Qxd4,a3,Bc5,Be3,Qxd1,Raxd1,Bxe3,fxe3,f6,exf6,gxf6,e4,Kd7,exd5,exd5,b4,Bc4,a4,Rab8,b5,Rhc8,bxc6+,Rxc6,Nxd5,Bxd5,Rxd5+,Kc7,Re7+,Kc8,Rxa7,Rb1+,Kf2,Rc2+,Kg3,Rb3+,Kh4,Rxg2,Ra8+,Kb7,Raa5,Rxh2+,Kg4,Rg2+,Kf5,Rf2+,Ke6,Rb6+,Kf7,Rc2,Rh5,Rc7+,Ke8,Re6+,Kd8,Rd6+,Ke8,Rdd7', 'Rhb5+,Kc8,Ra8#', 'https://lichess.org/training/M09HR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m09mg', 'Blitz', 'Vallen', 1773, 'zloyboy', 1713, 'e4,Nc6,Nf3,f5,exf5,d5,d4,Bxf5,c4,e6,Nc3,Nf6,Bd3,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd1,Nc6,cxd5,Nxd5,Qh5+,g6,Bxg6+,Ke7,Bg5+,Nf6,Bxf6+,Kxf6,Ne4+,Kg7,Ng5,Bb4+,Kf1,Qf6,Rd1,hxg6,Rd7+,Ne7,Qg4,Bc5,Nxe6+,Kf7,Nxc5,Rh5,Ne4,Qxb2,Ng5+,Ke8,Rxe7+,Kxe7', 'Qe6+,Kf8,Qf7#', 'https://lichess.org/training/m09mg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m09U3', 'Rapid', 'WES2015', 2153, 'Greco1', 2089, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,O-O,Nf6,e5,Ne4,Re1,d5,Bb5,O-O,Bxc6,bxc6,Nxd4,c5,Nc6,Qd7,Nxe7+,Qxe7,Qxd5,Bf5,Bf4,Rfd8,Qc4,Rd4,Qe2,Rad8,c3,Nxc3,Nxc3,Rxf4,Rad1,Rfd4,f3,Rxd1,Rxd1,Rxd1+,Qxd1,Qd7,Qxd7,Bxd7,Kf2,Bc6,g3,g5,f4,h6,Ke3,Kg7,Ne4,Bd5,b3,c4,bxc4,Bxc4,a3,g4,f5,a6,Nc5,c6,Kf4,f6,e6,h5,Nb7,Kf8,Nd6,Bd5,a4,Ke7,Nb7,Bf3,Ke3,Bd5,Kd4,Bg2,Kc5,Be4,Nd6,Bf3,a5,Bd5,Nb7,Be4,Nd6,Bd5,Nc8+,Kd8,Kd6', 'Kxc8,e7,Bf7,Kxc6,Be8+', 'https://lichess.org/training/m09U3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M0cEe', 'Rapid', 'Mnukovic', 1872, 'Heromnxpw0', 1886, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,h3,Bf5,Nf3,e6,c3,Be7,Qa4+,c6,Bc4', 'Qe4+,Kf1,b5,Bxb5,cxb5', 'https://lichess.org/training/M0cEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m0FQR', 'Rapid', 'slam42ru', 2080, 'P17illusion17', 2000, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,c4,Nf6,Nc3,e6,cxd5,Nxd5,Bb5+,Nc6,O-O,a6,Bxc6+,bxc6,h3,Bxf3,Qxf3,Bd6,a3,Bc7,Be3,Qd6,g3,O-O,Rfd1,Rab8,Rab1,Rb3,Qe2,Rfb8,Qc2,Nxe3,fxe3,Qxg3+,Kf1,Qxh3+,Ke1,Bg3+,Ke2,Qh2+,Kd3,Qxc2+,Kxc2,Bd6,e4,e5,d5,c5,Na4,c4,Rbc1,g5,Kd2,h5,Rxc4,h4,Rg1,f6,Rc6,Rd8,Rxa6,h3,Ke2,Kg7,Rc6,Kg6,Rc2,Ra8,Rc4,Kh5,Rc3,Rab8,Rc6,Rd8,Kf2,g4,Rgc1,g3+,Kg1,Re3,Nc3,Kg4,Rf1,Be7,b4,Rd3,Ne2,h2+,Kh1,Rd2,Nxg3,Kxg3,Rc3+,Kg4,Rc7,Re8,b5,Rb2,a4,Rb4,d6,Bxd6,Rg7+,Kh5,Rf3,Kh6,Rg2,Rxe4', 'Rh3+,Rh4,Rxh4#', 'https://lichess.org/training/m0FQR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M0IsN', 'Blitz', 'Ninja8flash', 1660, 'zombiedodo', 1675, 'g3,e5,c4,Nc6,Nc3,f5,Bh3,d6,d3,Nf6,Bg5,Be7,Nf3,O-O,O-O,Qe8,Bxf6,Bxf6,Nd5,Qh5,Bg2,f4,gxf4,Bh3,Bxh3,Qxh3,Kh1,Nd4,Nxd4,exd4,Nxf6+,Rxf6,Rg1,Rxf4,Rg3,Qh6,Qg1,Raf8,Rf1,Qf6,f3,Rf7,Qg2,Qe6,Rg1,g6,Rh3,b5,b3,bxc4,bxc4,Qd7,Rh6,Qa4,Qg5,Qxa2,Qd8+,Kg7', 'Rgxg6+,hxg6,Qh8#', 'https://lichess.org/training/M0IsN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M0Jzm', 'Blitz', 'Sanek1206', 2394, 'IM Satsanga', 2384, 'e4,c5,Nf3,e6,b4,cxb4,a3,Nf6,e5,Nd5,axb4,Bxb4,c3,Be7,c4,Nb6,d4,d6,exd6,Bxd6,c5,Bc7,cxb6,Bxb6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,O-O,Be3,Nf6,Nc3,Rc8,Na4,Bc7,Nc5,b6,Na6,Bd6,Ne5,Nd5,Qe2,Bxe5,dxe5,Qd7,Qb2,Rc4,Rfc1,Nxe3,fxe3,Rxc1+,Rxc1,Qd3,Nb4,Qxe3+,Kh1,h5,h3,Rd8,Qc3', 'Rd1+,Rxd1,Qxc3', 'https://lichess.org/training/M0Jzm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M0mWx', 'Rapid', 'kpippo', 1931, 'Lubekmat', 1816, 'e4,c5,f4,Nc6,Nf3,d5,e5,e6,c3,a6,d4,b5,Be3,c4,Be2,Nh6,h3,Nf5,Bf2,Be7,O-O,O-O,g4,Nh4,Qe1,Nxf3+,Bxf3,f5,g5,b4,Nd2,a5,Kh2,Ba6,Rg1,g6,h4,Rb8,Rh1,bxc3,bxc3,Rb2,Rg1,Qc7,Rh1,Rfb8,Kg1,Rc2,Nb1,Rbb2,Be3,Qd8,Nd2,Rxa2,Nf1,Rxa1,Qxa1,Rxc3,Qxc3,Bb4,Qc2,Qb6,h5,Nxd4,Bxd4,Qxd4+,Kg2,Qxf4,hxg6,Qxg5+,Kf2,Qxg6,Rg1', 'Bc5+,Ne3,Bxe3+,Kxe3,Qxg1+', 'https://lichess.org/training/M0mWx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M0PK1', 'Blitz', 'jek59', 2099, 'FM H-Aryanejad', 2406, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e4,d6,d4,O-O,Be2,e5,dxe5,dxe5,Qxd8,Rxd8,Bg5,Rf8,Nd5,Nxd5,cxd5,c6,Bc4,cxd5,Bxd5,Nc6,O-O-O,Bg4,Kb1,Bxf3,gxf3,Nd4,Rc1,Nxf3,Be3,Nd4,Bxb7,Rab8,Rc7,Kh8,Bd5,f5,Rxa7,fxe4,Bxe4,Rb6,Rc1,Rb4,Rcc7,Nb5,Rxg7,Nxa7,Rxa7,Rxe4,a4,Rb4', 'Bc5,Rxa4,Rxa4', 'https://lichess.org/training/M0PK1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M0w7u', 'Rapid', 'IND__Arly', 1825, 'qwertymalina', 1890, 'd4,d6,c4,h6,Nc3,g5,h3,Bg7,Nf3,Nd7,e3,Nf8,Bd3,Nf6,Qc2,c6,a4,a5,Bd2,g4,hxg4,Nxg4,Rc1,Ne6,Bf5,h5,Bxg4,hxg4,Rxh8+,Bxh8,Qh7,Bf6,Nh2,Nf8,Qg8,Qb6,Nxg4,Bxg4,Qxg4,Qxb2,Qg8,Qb3,e4,Bxd4,Ne2,Bf6,Bh6,Kd7,Bxf8,Qb4+,Kf1,Qb2,Qg4+,e6,Bh6,Rh8,Be3,Rh1+,Ng1,Bd4,Qe2', 'Rxg1+,Kxg1,Qxe2', 'https://lichess.org/training/M0w7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m0WcC', 'Classical', 'lelz21', 1790, 'Tsscfttsos', 1784, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c5,Bg5,cxd4,Nxd4,Nc6,e3,Be7,Be2,O-O,O-O,Qb6,a3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/m0WcC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M12fD', 'Blitz', 'atmaca_1525', 1794, 'ercumentmalkoc', 1797, 'd4,e6,e4,c5,d5,exd5,Qxd5,d6,Nf3,Nf6,Qd1,Nc6,Bd3,Be7,O-O,O-O,Bg5,Bg4,Nc3,Nd4,Be2,Nxe2+,Qxe2,h6,Bf4,Nh5,Be3,f5,h3,fxe4,hxg4,exf3,gxf3,Nf4,Qc4+,d5,Qb5,Nh3+,Kg2,Ng5,Bxc5,Bxc5,Qxc5,Rxf3,Nxd5,Kh8,Ne7,Rf6,Nf5,Rc8,Qxa7,Rxc2,Qxb7,Rc7,Qb4,Qd5+,Kh2,Nf3+,Kg3,Rxf5,gxf5,Ng5,Qb8+,Kh7,Qxc7', 'Qf3+,Kh2,Qh3+,Kg1,Nf3#', 'https://lichess.org/training/M12fD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M14b8', 'Rapid', 'granario', 2070, 'fr77127', 2184, 'Nf3,d5,d4,Nf6,e3,c5,c3,Nc6,Bd3,Qc7,Nbd2,e5,dxe5,Nxe5,Nxe5,Qxe5,O-O,Bd6,Nf3,Qh5,h3,O-O,Nd2,Bg4,hxg4', 'Qh2#', 'https://lichess.org/training/M14b8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M14Gr', 'Rapid', 'Shu6ham', 1618, 'EzCheckMate', 1639, 'e4,d6,Nf3,Nf6,Nc3,Nbd7,d4,e5,d5,Be7,Bd3,c6,Bg5,h6,Bxf6,Bxf6,Qe2,O-O,h4,cxd5,Nxd5,Nb6,O-O-O,Nxd5,exd5,Bg4', 'Qe4,g6,Qxg4', 'https://lichess.org/training/M14Gr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m14vL', 'Rapid', 'Onako1', 1723, 'dbelyavskyy', 1785, 'e4,e6,d4,d5,Nd2,Nf6,e5,Ne4,Nxe4,dxe4,f3,exf3,Nxf3,c5,c3,Nc6,Bd3,Qb6,O-O,cxd4,cxd4,Bd7,Bc2,O-O-O,Be3,Qxb2,Rb1,Qxa2,Ra1,Qb2,d5,exd5,Rxa7,Nxa7,Bxa7,b6,Qxd5,Qxc2', 'Qa8+,Kc7,Bxb6+,Kxb6,Qxd8+', 'https://lichess.org/training/m14vL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m16gm', 'Rapid', 'Okkah', 1616, 'Aasif_97', 1633, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bf4,Bb4+,c3,Ba5,Bb5+,Bd7,Qe2+,Ne4,Bxd7+,Nxd7,Ng5,O-O,Nxe4,dxe4,O-O,Re8,Nd2,f5,Qe3,Bb6,Qg3,Nf6,Bh6,Ng4,Bf4,Re6,h3,Nh6,Be5,Rg6,Qf4,Nf7,Nc4,Nxe5,Nxe5,Rg5,h4,Rh5,g4', 'Qxh4,gxh5,Qxf4', 'https://lichess.org/training/m16gm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m1cls', 'Rapid', 'stoyankolev', 1915, 'amkXcome', 1942, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,Nf6,Bc4,c6,O-O,O-O,Bf4,b5,Bb3,b4,Nce2,Nxe4,Qd3,Nc5,Qg3,Bh4,Qf3,Nxb3,axb3,Bb7,Rfd1,Bf6,Nf5,d5,Ned4,Qd7,Bd6,Re8,Bxb4,Na6,Ba3,c5,Ne2,d4,Qg4,Re4', 'Nh6+,Kf8,Qxd7', 'https://lichess.org/training/m1cls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M1DqP', 'Classical', 'Bulat48', 1925, 'tiarmed', 1972, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,e6,Bc4,Bd6,O-O,Ne7,Re1,Qc7,Ne5,O-O,h5,Bh7,Qg4,Kh8,Bf4,Nf5,Ne4,Qd8,Rad1,b5,Bd3,Bxe5,Bxe5,Qh4', 'Bxg7+,Nxg7,Qxh4', 'https://lichess.org/training/M1DqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M1e0f', 'Bullet', 'furkanfurkanfurkan', 1677, 'rory_merkury', 1591, 'e4,c6,f4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,Bg4,Be2,Bxe2,Qxe2,Qd4,Ngxe4,Nxe4,Nxe4,e6,c3,Qb6,d4,Nd7,Be3,Be7,O-O,O-O,f5,exf5,Rxf5,g6,Qg4,Kh8,Rf2,f5,Qh3,fxe4,Rxf8+,Bxf8,Qxd7,Qxb2,Rf1,Qxa2,Bg5,Qd5,Qxb7,Re8,Rf7,Qxg5', 'Rxh7+,Kg8,Qf7#', 'https://lichess.org/training/M1e0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M1E6m', 'Rapid', 'euhenio', 1737, 'sfanelCSS', 1761, 'e4,Nf6,e5,Nd5,Bc4,Nb6,Bb3,e6,d4,d6,f4,c5,Nf3,c4,c3,cxb3,Qxb3,d5,O-O,Nc6,Be3,Na5,Qc2,Nac4,Bf2,Be7,b3,Na5,Nbd2,Bd7,g4,Bb5,Rfe1,Qc7,f5,O-O-O,fxe6,fxe6,Qd1,Kb8,Rc1,Rc8,Nf1,Rhf8,Kg2,Qd7,Ng3,Ba3,Rc2,h6,Nh4,Qf7,Re3,Nac4,Rf3,Qd7,Ng6,Rxf3,Qxf3,Nb2,h4,Bd3,Rxb2,Bxb2,Qxd3,Bxc3,h5,Qf7,Ne2,Bb4,Bh4,Nd7,Qb5,Rc1,Nxc1,Bd2,Nd3,Nf8,Nxf8,Qxf8,Qd7,Ba5,Qxe6,Qd8,Nc5,Qxh4,Nd7+,Ka8,Qxd5,Qxg4+,Kf1,Qf4+,Ke2,Qd2+,Kf3,Qd1+,Ke4', 'Qh1+,Kf5,Qxd5', 'https://lichess.org/training/M1E6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m1gCx', 'Rapid', 'verikt', 2034, 'DKARG', 2353, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qf3,dxc6,Nc3,Qxf3,gxf3,Ne7,Bf4,Bb6,Bg3,Be6,O-O-O,Rd8,Be2,O-O,f4,Bh3,Bf3,c5,f5,Rxd1+,Rxd1,Nc6,Ne2,Nd4,Nxd4,cxd4,a4,Rd8,c3,c5,cxd4,cxd4,b4,a5,b5,d3,Kb2,Rd4,Kb3,d2,Bf4', 'Rd3+,Kc4,Rxf3', 'https://lichess.org/training/m1gCx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m1lSa', 'Rapid', 'RajeevSharma', 2044, 'Salanar', 2053, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,e5,d3,Nf6,Nc3,Bb4,Bd2,Be6,Nge2,O-O,O-O,Nc6,h3,Re8,Bg5,Be7,Ng3,h6,Bxf6,Bxf6,Ba4,Qb6,Bxc6,bxc6,Rb1,Bh4,Kh2,Qc7,Qh5,Bf6,Qe2,a5,Nh5,Bg5,Ng3,d4,Nce4,Bxa2,Rbe1,Bf4,Kh1,Bd5,Nh5,Qb7,Qg4,Bg5,Nxg5,hxg5,Qxg5,g6,Nf6+,Kg7,Nxe8+,Rxe8,f3,Qxb2,Rxe5', 'f6,Rxe8,fxg5', 'https://lichess.org/training/m1lSa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m1nzJ', 'Rapid', 'jagindas', 2171, 'niepce', 2008, 'd4,Nf6,Bg5,d5,e3,c5,Nf3,cxd4,Nxd4,e5,Nb3,Be7,Be2,h6,Bh4,Be6,O-O,O-O,N1d2,Nc6,Bg3,Rc8,c4,d4,exd4,exd4,Bd3,Nb4,Qe2,Nxd3,Qxd3,Nh5,Rac1,Nxg3,hxg3,Bf6,Nf3,Qc7,Nbd2,Qa5,Ne4,Be7,a3,Rfd8,b4,Qf5,Nxd4,Qg6,Rfd1,f5,Nc5,Bxc5,bxc5,Rxc5,Qe3,Bxc4,Nf3,Rxd1+,Rxd1,Rc8,Ne5,Qe6,Qf4,Bb5,a4,Bc6,Rc1,Rd8,f3,g5,Qe3,Re8,f4,gxf4,gxf4,Bxa4,Qg3+,Kh7', 'Rc7+,Re7,Rxe7+,Qxe7,Qg6+,Kh8,Nf7+,Qxf7,Qxf7', 'https://lichess.org/training/m1nzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M1p8Y', 'Rapid', 'dodeen11', 2044, 'goldwyn', 2313, 'd4,Nf6,Bf4,g6,e3,Bg7,Nd2,d6,Ngf3,Nbd7,h3,c5,c3,b6,Be2,Bb7,O-O,Rc8,a3,O-O,b4,Qc7,bxc5,bxc5,Rb1,e5,dxe5,dxe5,Bh2,Nd5,Qc2,Ba8,Nc4,N5b6,Rfd1,Nxc4,Bxc4,Bxf3,gxf3,Nb6,Bd5,c4,e4,Qc5,Qd2,Qxa3,Ra1,Qe7,Qa2,Rc7,Qa3,Qf6,Kg2,Qg5+,Bg3,Nxd5,Rxd5,f5,Kf1,fxe4,fxe4,Qxg3', 'Qxf8+,Bxf8,fxg3', 'https://lichess.org/training/M1p8Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M1qOw', 'Rapid', 'zemberek34', 1985, 'Mole_Creature', 2037, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,Nc6,Be3,e5,dxe5,Nxe5,Nxe5,dxe5,Qf3,Bg4,Qg3,Qe7,Bg5,Bd7,Nd5,Qd6,Nxf6+,Bxf6,Bxf6,Qxf6,f4,exf4,Qb3,Bc6,Rae1,Qe5,Bd5,g5,c3,Kg7,Qd1,Rad8,Qg4,h6,h4,f5,Qh5,Be8,Qf3,c6,Bb3,Bg6,exf5,Qxf5,Re7+,Bf7,hxg5', 'Qc5+,Rf2,Qxe7', 'https://lichess.org/training/M1qOw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M1s7B', 'Classical', 'rostislav19', 1936, 'Harbuz2016', 1864, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,Ne7,Be2,Bg4,h3,Bh5,O-O,Nbc6,Be3,Qd7,a3,O-O-O,b4,f6,Nb5,g5,Nxd6+,Qxd6,Nh2,Bxe2,Qxe2,h5,b5,Nb8,a4,Rdg8,a5,g4,h4,g3,fxg3,Qxg3,b6,cxb6,axb6,a6,c4,Nbc6,cxd5,Nxd5,Bd2,Kb8,Rf3,Qg6,Bf4+,Ka8', 'Rxa6+,bxa6,Qxa6+,Na7,Qxa7#', 'https://lichess.org/training/M1s7B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m1UN6', 'Classical', 'Omega76', 1774, 'wXy13', 1721, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,Nc6,Qd2,a6,O-O-O,Bd7,h4,Rc8,g4,h5,g5,Nh7,Be2,b5,Rhf1,Nf8,f4,b4,Nd5,a5,Nb5,Bh3,Bb6,Qd7,Nbc7+,Rxc7,Nxc7+,Kd8,Ne6+,Kc8,Ba6+,Kb8,Nxf8,Rxf8,Rf2,Bg4,Re1,Be6,Qd3,Na7,Rd2,Qc6,Bxa7+,Kxa7,Bb5,Qc5,f5,Bxa2,f6,exf6,Qxd6,Qxb5,Qe7+,Ka8,Rd7,fxg5', 'Ra7+,Kb8,Qc7#', 'https://lichess.org/training/m1UN6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m1WHp', 'Rapid', 'TourDeCaleche', 1795, 'ZantaWB', 1885, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,O-O,Bc5,Be3,O-O,Bxc6,Bxc6,Nxc6,bxc6,Bxc5,Nxc5,Qd4,Ne6,Qg4,Rb8,f4,Nd4,f5,Nxc2,f6,g6,Qg5,Kh8,Qh6,Rg8,Rf3,Qf8,Qh4,Qc5+,Kh1,Nxa1', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/m1WHp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m1WmW', 'Blitz', 'LeafInTheWind', 2088, 'FM stefan_95', 2506, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Nc3,Nxe5,e4,Nxf3+,Qxf3,Nf6,Bd3,Qd8,O-O,d6,Re1,Be7,e5,dxe5,Rxe5,O-O,Bg5,Qd4,Rae1,Bd6,Bxf6,gxf6,Bxh7+,Kxh7,Rh5+,Kg7,Re4,Qd2', 'Rg4+,Bxg4,Qxg4+,Qg5,Rxg5+', 'https://lichess.org/training/m1WmW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M1YQ8', 'Rapid', 'PRyr', 1777, 'amitshafak', 1852, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,d5,Nxc6,bxc6,Be3,Bb4,Qd4,Bf8,exd5,exd5,Bh6,Nxh6,Qe5+,Be6,Ba6,Ng4,Qh5,Bb4,Bb7,O-O,Bxa8,d4,O-O-O,Qxa8,Ne4,c5,Ng5,Nh6,Nxe6,fxe6,f3,a5,a3,Rf5,Qh4,Qd5,Kb1,c4,axb4,axb4,Rxd4,Qb5,g4,Rf8,Qe7,Nf7,Qxe6,c3,Rhd1,Qa5,Qb3', 'Ra8,Rd8+,Rxd8', 'https://lichess.org/training/M1YQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M1yVi', 'Blitz', 'CM Davigator', 2373, 'creadordedioses', 2340, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,cxd4,Nxd4,Bc5,Qd2,O-O,O-O-O,a6,h4,Nxd4,Bxd4,b5,Ne2,b4,Qe3,Qc7,g4,a5,Bxc5,Nxc5,Nd4,Ba6,Kb1,a4,f5,a3,f6,gxf6,exf6,Kh8,Bd3,Nxd3,cxd3,axb2,Rd2,b3,a3,Qc3,Ne2,Qxf6,Rxb2,Rfc8,g5,Qf5,Rxb3,Rab8,Qd4+,Kg8,Rxb8,Rxb8+,Kc2,e5,Qxd5,Qc8+,Kd2,Rb2+,Ke3,Qg4,Re1', 'Rxe2+,Rxe2,Qf4#', 'https://lichess.org/training/M1yVi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M22CO', 'Rapid', 'SuperDodgy', 2395, 'SasiKumar_V_V', 1977, 'e4,c5,Ke2,Nc6,c3,d5,exd5,Qxd5,f3,Ne5,Kf2,Bf5,d4,cxd4,Qxd4,Qa5,Bf4,Nc6,Qd2,e5,Be3,Nf6,Bc4,Be4,Ne2,Bd5,b4,Qd8,Bxd5,Nxd5,Rd1,Nxe3,Qxd8+,Rxd8,Rxd8+,Nxd8,Kxe3,Bd6,Nd2,f5,Nc4,Bc7,Rd1,O-O,Rd7,Rf7,Rd5,e4,g3,b5,Ne5,Bb6+,Kf4', 'Ne6#', 'https://lichess.org/training/M22CO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M234s', 'Rapid', 'Attikus', 1855, 'lugefe', 1909, 'e4,d5,exd5,Nf6,Bc4,Nxd5,Nf3,c6,Nc3,e6,O-O,Bd6,d3,O-O,Ne4,Bc7,Nfg5,f5,Nxh7,fxe4,Qh5,Nf6,Nxf6+,Qxf6,Bg5,Qf7,Qh4,Nd7,Rae1,Nf6,dxe4,Qh5', 'Bxf6,Qxh4,Bxh4', 'https://lichess.org/training/M234s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M23pb', 'Blitz', 'Svinotalenivaya', 2180, 'natsirk', 2079, 'e4,g6,d4,Bg7,Nf3,c5,dxc5,Qa5+,Bd2,Qxc5,Nc3,d6,Bd3,Nf6,h3,O-O,O-O,Be6,Be3,Qc8,Qd2,Nc6,Bh6,Nb4,Bxg7,Kxg7,e5,dxe5,Nxe5,Nxd3,Nxd3,Rd8,Rfe1,Qc4,Qg5,h6,Qg3,Rd4,Qf3,Rad8,Ne5,Qb4,Nd3,Qc4,Rad1,a5,Qxb7,a4,Qxe7,R8d7,Qa3,Rb7,Ne5,Qb4,Qxb4,Rdxb4,b3,axb3,axb3,Rc7,Re3,Rb6,Rd2,Rbc6,Nxc6,Rxc6,Ne4,Nd5,Red3,Nf4,Rd6,Rc7,b4,Rc4,R6d4', 'Rxd4,Rxd4,Ne2+,Kh2,Nxd4', 'https://lichess.org/training/M23pb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m2419', 'Rapid', 'MrPhilosophe', 2022, 'Zenga', 2003, 'c4,e6,g3,Nf6,Bg2,d5,cxd5,Nxd5,Nf3,c6,O-O,Bd6,d4,O-O,e4,Nb4,e5,Be7,a3,N4a6,Nc3,b6,Nd2,Bb7,Nc4,Nd7,Ne4,Rb8,Ncd6,Bxd6,Nxd6,Ba8,Qa4,Nc7,Bxc6,b5,Qc2,f6,f4,fxe5,dxe5,Nd5,Bxa8,Rxa8,Nxb5', 'Qb6+,Rf2,Qxb5', 'https://lichess.org/training/m2419');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m256M', 'Classical', 'TactileTangle', 1766, 'EAA_VTSL', 1755, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,Nf3,Qb6,Be3,Nc6,a3,Ba5,Rb1,cxd4,Nxd4,Bxc3+,bxc3,Qc7,f4,Na5,Bd2,Nc4,Bxc4,Qxc4,Qg4,g6,Rf1,b6,Rb4,Qa2,f5,Ba6,fxe6', 'Qa1+,Qd1,Qxd1+,Kxd1,Bxf1,exf7+,Kxf7', 'https://lichess.org/training/m256M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m25D7', 'Classical', 'division1st', 1606, 'dudek112', 1611, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,h6,d4,exd4,Nxd4,b6,Bb5+,Bd7,O-O,c5,Nf3,Bxb5,Nxb5,a6,e5,axb5,exf6,Qxf6,Re1+,Be7,Qd5,Ra7,Bd2,O-O,Bc3,Qg6,Re2,b4,Be1,Qf6,c3,Rc7,a3,bxa3,Rxa3,Rfc8,c4,Nc6,Bc3,Qg6,Qd1,Ra7', 'Rxa7,Nxa7,Rxe7', 'https://lichess.org/training/m25D7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M25j4', 'Classical', 'kawaiigirl', 1756, 'Black7sabbath', 1684, 'e4,e5,Nf3,Nc6,Bc4,Be7,d3,Nf6,Be3,O-O,d4,d6,d5,Nb4,Nc3,Bg4,Be2,c6,a3,Na6,Nh4,Bxe2,Qxe2,cxd5,exd5,Nc5,Nf5,Nce4,Nxe4,Nxe4,Qg4,g6,Nh6+,Kg7,Qxe4,f5,Qb4,f4,Bd2,Kxh6,g3,Kg7,gxf4,exf4,Bxf4,Bh4,O-O-O', 'Rxf4,Qxf4,Bg5,Qxg5,Qxg5+', 'https://lichess.org/training/M25j4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M275y', 'Rapid', 'kostaskom', 1773, 'BatuhanAkgul', 1669, 'd4,Nf6,d5,e6,c4,Bc5,a3,O-O,Nc3,b6,h3,Bb7,e4,exd5,cxd5,Re8,Bd3,Ba6,Nf3,Bxd3,Qxd3,a5,O-O,Na6,b4,axb4,axb4,Nxb4,Rxa8,Nxd3,Rxd8,Rxd8,Bg5,d6,Bxf6,gxf6,Ra1,Re8,Ra7,Re7,Nh4,Nxf2,Kh2,Nxe4,Nf5,Re5', 'Ra8+,Re8,Rxe8#', 'https://lichess.org/training/M275y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m2A1P', 'Rapid', 'MalekTarifi', 1678, 'serdg', 1644, 'e4,e6,Nf3,d5,exd5,exd5,h3,c5,d4,Qb6,dxc5,Bxc5,Qe2+,Be6,Ng5,Ne7,Nxe6,fxe6,Nc3,O-O,Be3,Bxe3,Qxe3,Qxe3+,fxe3,Nbc6,a3,a6,g4,b5,Bg2,Rf6,O-O-O,Raf8,Rhf1,h6,e4,d4,Ne2,e5,c3,d3,Rxf6,dxe2,Rxf8+,Kxf8,Re1,Ng6,Rxe2,Nf4,Rd2,Ke7,Kc2,Na5,Bf1,Nc4,Rh2,Ne3+,Kb3,Nxf1,Rf2,Ne3,a4,bxa4+,Kxa4,Nxh3', 'Rf3,Nxg4,Rxh3', 'https://lichess.org/training/m2A1P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M2EQ8', 'Blitz', 'qemacht', 1861, 'nabilegypt', 1879, 'd4,e6,Bf4,c6,e3,d5,Nf3,Nf6,Bd3,Bd6,Ne5,O-O,O-O,c5,c3,c4,Bc2,a5,Nd2,b5,Ndf3,b4,Ng5,h6,Nh3,Bxe5,dxe5,Nfd7,Qh5,Nc6,Bxh6,gxh6,Qxh6,f5,exf6,Nxf6,Qg6+,Kh8,Qg5,Ra7,Nf4,Rg7,Ng6+,Kg8,Qh6,Re8,Rad1,Ne7', 'Qh8+,Kf7,Ne5#', 'https://lichess.org/training/M2EQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m2FBo', 'Classical', 'rocanbole', 1700, 'teguedze', 1892, 'e4,e6,Bc4,d5,exd5,exd5,Qe2+,Be6,Bb5+,c6,Ba4,Nf6,d4,Ne4,Nf3', 'Qa5+,c3,Qxa4', 'https://lichess.org/training/m2FBo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M2IoE', 'Classical', 'HenriquezCarlosEA', 1787, 'VooV', 1731, 'e4,g6,e5,d6,Qe2,Bg7,exd6,cxd6,Qf3,a6,Bd3,Nc6,Be4,Nd4,Qa3,Nf6,Bd3,b5,c3,Qc7,Ne2,Nxe2,Bxe2,b4,Qxb4,a5,Bb5+,Bd7,Bxd7+,Qxd7,Qa3,Qe6+,Kf1,Qc4+,Ke1,Qe4+,Kf1,Qc2,Qb3,Qd3+,Ke1,a4,Qd1,Qe4+,Kf1,Qd3+,Kg1,O-O,h3,Ne4,Qf3,Qd5,d3,Nf6,Qxd5,Nxd5,d4,e5,dxe5,dxe5,g3,f5,c4,Nb4,Na3,Nd3,Kg2,e4,Rb1,Bd4,Rf1,Rfe8,Nb5,Red8,Be3,Bxb2,Rfd1,a3,Nc7,Rac8,Bb6,Nb4,Rxd8+,Rxd8,Nd5,Rb8,Nxb4,Rxb6,Nc2,Rc6,Ne3,Kf7,Rd1,Ke6,Rd8,Rc7,Rd5,Rd7,f4,exf3+,Kxf3,Rxd5,cxd5+,Ke5,h4,h6,Ke2,Bd4,Nc4+,Kxd5,Nxa3,g5,h5,f4,g4', 'Ke4,Nb5,f3+', 'https://lichess.org/training/M2IoE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m2iyd', 'Rapid', 'suyog123', 1629, 'amfathi', 1683, 'c4,e5,Nf3,e4,Nd4,c5,Nb3,d5,cxd5,Qxd5,Nc3,Qe6,Nb5,Bd6,Nxc5,Qd5,Nxd6+,Qxd6,Nxe4,Qe7,Nc3,Nc6,g3,Nf6,Bg2,Bd7,Nb5,O-O,Nc3,Rac8,Nd5,Qe6,Nxf6+,Qxf6,d3,b5,Qb3,Nd4,Qd1,Rfe8,e3', 'Nc2+,Qxc2,Rxc2', 'https://lichess.org/training/m2iyd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m2Kav', 'Rapid', 'darko9963', 1732, 'attila10', 1614, 'e4,e5,f4,Nc6,Nf3,exf4,d4,g5,Bc4,Na5,Bxf7+,Kxf7,Ne5+,Ke7,O-O,d6,Nf3,Bg4,h3,Bxf3,Qxf3,Nc6,c3,Bh6,Na3,Qf8,e5,dxe5,dxe5,Qf5,Be3,Rd8,Bc5+,Ke8,Nb5,Kf7,Nxc7,Rd3,Qh5+,Qg6,e6+,Kg7', 'Ne8+,Qxe8,Qxe8', 'https://lichess.org/training/m2Kav');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m2lDp', 'Rapid', 'vinhnvq', 1931, 'hohoanghiep', 1773, 'e4,e5,d4,exd4,Qxd4,c6,Nf3,d5,Bg5,Be7,Qe5', 'f6,Qg3,fxg5', 'https://lichess.org/training/m2lDp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M2m6N', 'Rapid', 'debushii', 1605, 'Kho_mahmud', 1797, 'c4,e5,e3,d6,Nc3,Nf6,h3,Be6,Nf3,h6,d4,exd4,Nxd4,Nbd7,Nxe6,fxe6,Be2,Be7,Bf3,c6,O-O,O-O,Ne4,Nxe4,Bxe4,d5,cxd5,exd5,Bf3,Bd6,Qb3,Rb8,Rd1,Rxf3,gxf3,Qg5+,Kf1,Qh4,f4,Qxh3+,Ke2,Nf6,e4,Qg4+,Ke1,Nxe4,Rxd5,Qg1+,Ke2,Qxf2+,Kd1,Qf1+,Kc2,Qe2+', 'Rd2+,Kh8,Rxe2', 'https://lichess.org/training/M2m6N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M2MCV', 'Rapid', 'coolnal', 1751, 'kozde', 1689, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,O-O,Bg5,Nc6,a3,Bxc3+,bxc3,Qe7,d5,Nd8,e3,e5,c5,d6,cxd6,cxd6,Qc2,h6,Bh4,g5,Bg3,Nxd5,Bc4,Be6,Bd3,Rc8,c4,Nb6,O-O,Nxc4,Bxc4,Bxc4,Rfc1,b5,a4,a6,axb5,axb5,Nd2,Ne6,Nxc4,Rxc4,Qd3,Rxc1+,Rxc1,Rb8,Rb1,Qb7,Qxd6,b4,Bxe5', 'Rd8,Qxd8+,Nxd8', 'https://lichess.org/training/M2MCV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m2sSS', 'Rapid', 'Salahexe', 1951, 'mmoh123', 2103, 'd4,Nf6,Nc3,d5,Bf4,Bf5,e3,e6,Bd3,Bg6,Nf3,Be7,O-O,O-O,Ne5,c5,Nxg6,hxg6,dxc5,Bxc5,Nb5,Nc6,a3,a6,Nc3,d4,exd4,Nxd4,Na4,Ba7,Be3,Nc6,Nc5,Bxc5,Bxc5,Re8,Qf3,Nd5,c4,Ne5,Qg3,Nxd3,Qxd3,Nf4,Qe4,Qh4,Qxb7,Rac8,Be3,Ne2+,Kh1,Rxc4,Qxa6', 'Qxh2+,Kxh2,Rh4#', 'https://lichess.org/training/m2sSS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m2Ub7', 'Rapid', 'Valentyn16397', 1762, 'Matrix1000', 1791, 'e4,c5,f4,e6,Nf3,d6,Bc4,a6,O-O,b5,Be2,Bb7,f5,Bxe4,fxe6,fxe6,d3,Bb7,Ng5,Qd7,Nf7,Qxf7,Rxf7,Kxf7,Qf1+,Nf6,Bg5,Nd7,Nd2,Be7,Ne4,h6,Bxf6,Nxf6,Bf3,d5,Nxf6,Bxf6,Re1,Rhf8,Bg4,Rae8,Qf4,Kg8,Rxe6', 'Bd4+,Qxd4,cxd4,Rxe8,Rxe8', 'https://lichess.org/training/m2Ub7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M2wDM', 'Rapid', 'Best2012', 2060, 'FitzwilliamDarcy', 2159, 'd4,b6,e4,Bb7,Nc3,e6,Bd3,Bb4,Bd2,f5,Qe2,Bxc3,Bxc3,fxe4,Bxe4,Bxe4,Qxe4,Nc6', 'd5,Nf6,Bxf6', 'https://lichess.org/training/M2wDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m33Hy', 'Rapid', 'Daggermaster', 1914, 'Brabemachess', 1701, 'd4,Nf6,Bf4,d5,Nf3,c5,e3,e6,Bxb8,Rxb8,dxc5,Bxc5,Nbd2,Qb6,Rb1,Bd7,Nb3,Bb5,Bxb5+,Qxb5,Qe2,Qb6,O-O,Bd6,Rbc1,O-O,c4,dxc4,Qxc4,Rbc8,Qd3,a5,Rxc8,Rxc8,Rd1,Bb4,Qe2,a4,Nbd4,Qc5,b3,axb3,Nxb3,Qc3,g3,Ne4,Nfd2,Nxd2,Nxd2,Qc2,Kf1,Qxa2,Ne4,Rc2', 'Rd8+,Bf8,Nf6+,gxf6,Qg4+,Kh8,Rxf8#', 'https://lichess.org/training/m33Hy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M36gI', 'Classical', 'VictorTaj', 1968, 'Ethan_17', 2009, 'e4,d6,d3,Nf6,Nc3,c6,Nf3,Nbd7,g3,e5,Bg2,Be7,O-O,O-O,Be3,b5,a3,Nb6,Nh4,Ng4,Nf5,Nxe3,fxe3,Bf6,Bf3,Nd7,Bg2,Qc7,Qe2,a5,Rf2,Re8,Raf1,Nf8,Nh6+,Kh8,Rxf6,gxf6,Rxf6,Re7,Qh5,Ng6,Nxf7+,Rxf7,Rxg6,b4,Ne2,bxa3,bxa3,Qb6,h3,Qxe3+,Kh2,Qc5,Rxd6,Qxd6,Qxf7,Bd7,g4,Rf8,Qh5,Be8,Qg5,Rf2,Nc1,Rxc2,Nb3,a4,Na5,Rc5', 'Nb7,Qf8,Nxc5', 'https://lichess.org/training/M36gI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m371l', 'Rapid', 'vetrov-i5', 2222, 'O_Hto_I_O', 2033, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,c6,Bd3,Nbd7,O-O,b6,cxd5,exd5,Rc1,Bb7,Ne5,Nxe5,dxe5,Ne8,Bf4,Nc7,Qh5,g6,Qg4,Ne6,Bh6,Re8,f4,Bf8,Bxf8,Nxf8,e4,Rc8,exd5,cxd5,Nb5,Rxc1,Rxc1,Ne6,Nd6,Re7,f5,Nc5,fxg6,hxg6,Bb1,Qd7,Nf5,Rxe5,Rxc5,Qe6,Nh6+,Kg7,Qxe6,Rxe6,Rc7,Kxh6,Bd3,Bc6,Rxf7,a5,Kf2,Kg5,Rf3,Rf6', 'h4+,Kh6,Rxf6', 'https://lichess.org/training/m371l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M375e', 'Blitz', 'modmod21', 1516, 'catorcio', 1559, 'd4,d5,c4,c6,Nc3,dxc4,Nf3,a6,Bg5,b5,e3,h6,Bh4,Bb7,b3,cxb3,Qxb3,Qa5,Ne5,e6,Bd3,Nf6,O-O,Nd5,Nxd5,cxd5,Rfc1,Bd6,f4,O-O,Bc2,Qb6,Qd3,f5,g4,Nc6,Nd7,Qc7,Nxf8,Rxf8,gxf5,exf5,Bb3,Qf7,a4,b4,Qe2,Qg6+,Kh1,Na5,Ba2,b3,Bb1,Qe6,Bf2,Nc4,Rc3,b2,Ra2,Bb4,Rb3,a5,Bd3,Ba6,Qd1,Rc8,Bxc4,Bxc4,Rbxb2,Bxa2,Rxa2,Rc3,Rc2,Qc6,Rxc3,Qxc3,Qh5,Qd3,Qe8+,Kh7,Qe5', 'Qf1+,Bg1,Qf3#', 'https://lichess.org/training/M375e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m38y0', 'Rapid', 'kendoka', 2182, 'Gambitmat86', 1913, 'd4,f5,Nc3,Nf6,Bg5,e6,e4,fxe4,Nxe4,Be7,Bxf6,Bxf6,Nf3,O-O,Bd3,d5,Nxf6+,Qxf6,O-O,Nc6,c3,e5,dxe5,Nxe5,Nxe5,Qxe5,Qc2,Bf5,Rae1,Qf6,Re3,Bxd3,Qxd3,c6,Rh3,Qf5,Qd4,Qf6,Qb4,Rae8,Qxb7', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/m38y0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m3b3i', 'Rapid', 'Ferdi270691', 1684, 'nithishpsg', 1730, 'e4,e5,f4,d6,Nf3,Bg4,Nc3,exf4,d4,Qf6,Nd5,Qd8,Bxf4,c6,Nc3,Nf6,Bc4,Qe7,Qd3,b5,Bb3,c5,h3,c4,Bxc4,bxc4,Qxc4,Bxf3,gxf3,Nbd7,O-O-O,Qd8,Rhg1,Nb6,Qb5+,Nfd7,Qb4,Nc8,h4,Rb8,Qa4,Qb6,b3,Be7,Nd5,Qb5,Qxb5,Rxb5,Rxg7,Bxh4,Nc7+,Kf8,Nxb5,Kxg7,Nxd6,Nxd6,Bxd6,Bg5+,Kb2,Bf6,c3,h5,Rg1+,Kh6,Bf4+,Kh7,e5,Be7,c4,Rg8,Rxg8,Kxg8,d5,Kg7,d6,Bd8,Bg3,h4,Bh2,h3,f4,Kg6,Kc2,Kf5,Kd3,Nc5+,Ke3,Bb6,Kf3,Ne4,d7,Nd2+,Kg3,Ke6,Kxh3,Kxd7,Kg4,Ke6,Kg5', 'Nf3+,Kg4,Nxh2+', 'https://lichess.org/training/m3b3i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M3BP6', 'Classical', 'superedu68', 2141, 'karimesmaeilpour2', 2016, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,c6,e3,Bd6,Bd3,O-O,e4,dxc4,Bxc4,Be7,O-O,b5,Bd3,Bb7,e5,Nd5,Ne4,f5,exf6,gxf6,Bh6,Rf7,Rc1,Nd7,Re1,Kh8,a3,Bf8,Qd2,Rc8,b4,Qe8,Nc5,Nxc5,bxc5,Rcc7,Re2,Bc8,Rce1,Rce7,Bxf8,Rxf8,Be4,Rg8,Bxd5,cxd5,Qf4,Qg6,g3,Reg7,Rxe6,Bxe6,Rxe6,Rf7,Qd6,Qf5,Kg2,a5,c6,b4,Nh4,Qg5,Nf3,Qf5,axb4,axb4,c7,Rff8,Nh4,Qg5,Qxb4,Qxh4', 'Qxf8,Rxf8,gxh4', 'https://lichess.org/training/M3BP6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M3bPW', 'Rapid', 'mustafahasan', 1700, 'dakkashi', 1711, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Bg4,Be2,Nf6,O-O,e5,d4,exd4,Nxd4,Bxe2,Qxe2+,Be7,Re1,Nc6,Nf5,Qd7,Nxg7+,Kd8,Bg5,Rg8,Bxf6,Bxf6,Rad1,Nd4,Qe4,Bxg7,Nb5,Qxb5,Rxd4+,Bxd4,Qxd4+,Qd7,Qf6+,Kc8,h3,b6,Re7,Qd6,Qxf7,Rd8,a4,Kb7,a5,Qg6', 'Rxc7+,Ka6,Qc4+,b5,Rc6+,Qxc6,Qxc6+', 'https://lichess.org/training/M3bPW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m3CiN', 'Rapid', 'alirezafat', 1743, 'CallMeTrinity', 1905, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,a3,O-O,b4,a5,b5,c5,bxc6,Nxc6,Nf3,Bg4,Bb2,Rc8,h3,Bxf3,Qxf3,dxc4,Bxc4,Nxd4,exd4,Rxc4,O-O,Qd7,Rfd1,e6,d5,Nxd5,Nxd5,exd5,Bxg7,Kxg7,Rxd5,Qc7,Rb5,b6,Rab1,Rd8,Rxb6', 'Rc1+,Rxc1,Qxc1+,Kh2,Qc7+', 'https://lichess.org/training/m3CiN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m3CvU', 'Blitz', 'ani85', 2044, 'Medoj', 1954, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,f6,d4,exd4,Nxd4,c5,Nb3,Qxd1,Rxd1,Bd7,Bf4,O-O-O,c4,b6,Nc3,Ne7,Nd5,Nxd5,cxd5,Bd6,Be3,Ba4,Re1,Be5,Re2,g5,f3,c6,dxc6,Bxc6,a4,Rd3,Nc1,Rxe3,Rxe3,Bxb2,Rb1,Bd4,Kf2,b5,Nb3,Bxe3+,Kxe3,c4,Nd4,Kc7,axb5,axb5,Nxb5+,Bxb5,Rxb5,Kc6,Ra5,Rd8,Ra6+,Kb5,Rxf6,Kb4,e5,c3,Rc6,Kb3,e6,c2,Ke4,Rd1,Kf5,c1=Q,Rxc1,Rxc1,e7,Re1,Kf6,Kc3,Kf7,Kd3,e8=Q,Rxe8,Kxe8,Ke3,Kf7,Kf2,h4', 'gxh4,Kg7,Kxg2,f4,h3', 'https://lichess.org/training/m3CvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m3D4M', 'Classical', 'borycki', 1704, 'sapientisat1', 1704, 'Nf3,d5,d4,Nf6,e3,Nc6,c4,dxc4,Bxc4,h6,Nc3,Bg4,Qa4,Bd7,d5,Ne5,Bb5,Nd3+,Ke2,Nc5,Bxd7+,Qxd7,Qxd7+,Ncxd7,Rd1,O-O-O,Nb5,Kb8,b3,Nb6,Ne5,Rxd5,Nxf7,Rxd1,Kxd1,Rg8,Ba3,e6,Rc1,Bxa3,Nxa3,Rf8,Ne5,Rd8+,Ke2,Nbd5,f3,Nb4,Nb5,Nfd5,e4,c6,exd5,Rxd5,Nxc6+,Nxc6,Nc3,Rc5,Kd3,a6,Re1,e5,Na4,Rd5+,Ke4,Ne7,Nb6,Ra5,a4,Kc7,Nc4,Rc5,Nxe5,Rc2,Rd1', 'Re2+,Kf4,g5+', 'https://lichess.org/training/m3D4M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M3eqx', 'Rapid', 'mzmaz', 2341, 'bdld', 2185, 'd4,f5,g3,Nf6,Bg2,e6,c4,Be7,Nf3,O-O,O-O,d6,b3,a5,Bb2,Qe8,Nc3,Ne4,Nd2,Nxc3,Bxc3,Bf6,e4,Nc6,Nb1,e5,dxe5,Bxe5,exf5,Bxf5,Re1,Qg6,Bxe5,dxe5,Nc3,Rad8,Nd5,Bg4,Qd2,Qf7,Qe3,Rde8,h3,Bh5,Nc3,Nd4,Bd5,Ne6,Qxe5', 'Qxf2+,Kh1,Bf3+,Bxf3,Qxf3+', 'https://lichess.org/training/M3eqx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m3gI0', 'Blitz', 'IM ich2', 2425, 'Navid008', 2352, 'd4,Nf6,c4,e6,g3,c5,d5,exd5,cxd5,d6,Nc3,a6,a4,g6,Nf3,Bg7,Bg2,O-O,O-O,Re8,Bf4,h6,Re1,g5,Bd2,Nbd7,e4,c4,Be3,Nxe4,Nxe4,Rxe4,Nd2,Rxe3,Rxe3,Bxb2,Nxc4,Bxa1,Qxa1,Qf6,Qxf6,Nxf6,Nxd6,b5,Ne8,Nd7,d6,Rb8,Bh3,b4', 'Bxd7,Bxd7,Nf6+,Kg7,Nxd7', 'https://lichess.org/training/m3gI0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m3gIp', 'Blitz', 'Brhnpcl', 2221, 'thisusernameisgood', 2158, 'e4,Nc6,Nf3,d6,d4,Nf6,Nc3,Bg4,Be3,e5,dxe5,Nxe5,Be2,Be7,Nxe5,Bxe2,Qxe2,dxe5,O-O,O-O,Rad1,Qc8,h3,c6,f4,exf4,Bxf4,Bb4,e5,Bxc3,bxc3,Nd5,c4,Nc3,Qg4,Nxd1,Qxd1,Qe6,Qf3,Rad8,Qg3,Rd7,Bg5,h6,Bf6,g6,h4,Qxc4,h5,Kh7,hxg6+,fxg6,Rf4,Rd1+,Kh2,Qe6,Rh4,Qf5,Rh3,Qf1', 'Rxh6+,Kxh6,Qh3#', 'https://lichess.org/training/m3gIp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M3jsr', 'Rapid', 'AgustinLepre', 1753, 'Mephisto_59', 2047, 'e4,c5,Bc4,Nc6,Nf3,Nf6,Nc3,e6,d4,cxd4,Nxd4,Bb4,Nxc6,bxc6,Qf3,d5,Bb3,Nxe4,O-O,Nxc3,bxc3,Bd6,c4,O-O,cxd5,cxd5,Bb2,Qh4,g3,Qg5,c4,Ba6,Rfd1,dxc4', 'Rxd6,cxb3,Rxa6', 'https://lichess.org/training/M3jsr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m3jxF', 'Rapid', 'freddy59', 1896, 'glebdius', 1772, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,d5,Be3,Be7,Qd2,O-O,h3,c6,O-O-O,Nd7,Kb1,Nf6,Bd3,Be6,Nd4,Bc8,g4,c5,Nf5,Bxf5,Bxf5,g6,Bd3,d4,cxd4,cxd4,Bf4,Qb6,Bg3,Ba3,Qc1,Rfd8,Bc4,Bd6,Bh4,Kg7,Qg5,Ne4,Qd5', 'Nc3+,Ka1,Nxd5', 'https://lichess.org/training/m3jxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m3K01', 'Rapid', 'Abel4865', 1634, 'BlackLigthBulb', 1628, 'b3,e5,Bb2,Nc6,e3,Nf6,Bb5,a6,Bxc6,dxc6,Bxe5,Bg4,f3,Qe7,Bxf6,Qxf6,c3,Bd7,d4,O-O-O,Nd2,Qh4+,g3,Qe7,Qe2,Kb8,Qd3,c5,Ne2,cxd4,cxd4,g5,O-O,Bh3,Rfc1,Qf6,Ne4', 'Qxf3,Nf4,gxf4', 'https://lichess.org/training/m3K01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m3l3g', 'Rapid', 'axelpro446', 1931, 'GeopgKravt', 1972, 'e4,e5,Bc4,Nf6,d3,c6,Bg5,d5,exd5,cxd5,Bb3,Be7,Nf3,Bg4,h3,Bxf3,Qxf3,e4,dxe4,dxe4,Qe3,O-O,Nc3,Bb4,Bxf6,Qxf6,O-O,Nc6,Nxe4,Qxb2,Ng5,h6,Nxf7,Rxf7,Bxf7+,Kxf7,Qb3+,Qxb3,axb3,Nd4,Rad1,Nxc2,Rd7+,Kg6,Rxb7,a5,Rc1,Nd4,Rcc7,Rg8,h4,Nxb3,h5+,Kxh5,Rxg7,Rxg7,Rxg7,Nd4,f4,Nf5', 'g4+,Kh4,gxf5', 'https://lichess.org/training/m3l3g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M3ojg', 'Rapid', 'Uriel_Rising', 1668, 'Jagalabilowo', 1782, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,c3,dxc3,O-O,Nf6,Qb3,Qe7,Nxc3,Na5,Qa4,Nxc4,Qxc4,Qc5,Qb3,d6,Be3,Qh5,Bf4,Be7,e5,dxe5,Bxe5,O-O,Bxc7,b6,Bg3,Be6,Qc2,Rad8,Rad1,Bc5,Rxd8,Rxd8,Rd1,Rxd1+,Qxd1,Qf5,h3,Ne4,Qd8+,Kh7,Nh4', 'Bxf2+,Bxf2,Qxf2+', 'https://lichess.org/training/M3ojg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m3pFo', 'Rapid', 'prsteele', 1821, 'AAshmn', 1884, 'e4,c5,Nf3,d6,c3,e5,d4,cxd4,cxd4,Nf6,dxe5,dxe5,Qxd8+,Kxd8,Bc4,Bb4+,Bd2,Bxd2+,Nbxd2,Nc6,Bxf7,Ke7,Bb3,Bg4,O-O,Rad8,Rfe1,Nb4,h3,Bh5,Nc4,Bxf3,gxf3,Nc6,Rad1,b5,Ne3,Nd4,Kg2,Nh5,Nd5+,Kd6,Rd3,Rhf8,Bd1,Nf4+,Nxf4,Rxf4,Kg3,Rdf8,Ree3,b4,a3,a5,axb4,axb4,b3,R8f6,Rd2,Rg6+,Kh2,Ke7,Ra2,Rh6,Ra7+,Kf6,Ra6+,Kg5,Rxh6,Kxh6,Kg3,g5,Rd3,Kg6,Rd2,h5,Ra2,h4+,Kg2,Rf6,Ra8,Ne6,Rb8,Nf4+,Kh2,Nd3,Kg1,Rd6,Rg8+,Kf6,Rf8+,Ke7,Rf5,Rg6,Kf1,Ke6,Ke2,Nf4+,Kd2,Nxh3,f4,Nxf4,Bg4,Kd6,Rf8,Rh6,Rb8,h3', 'Rb6+,Ke7,Rxh6', 'https://lichess.org/training/m3pFo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M3Wg1', 'Rapid', 'duh_sa_sekirom', 1800, 'kys040k', 1791, 'd4,d5,Bf4,Nc6,e3,Nf6,Bd3,e6,Nf3,Bd6,Bg3,a6,a3,b5,Nc3,Ne7,Ne5,c5,Qd2,c4,Be2,Bb7,b3,O-O,bxc4,bxc4,Rb1,Qc7,a4,Nc6,O-O,Ne4,Nxe4,dxe4,f3,Na5,f4,Bd5,Bh5,f6,Ng4,g6,Nh6+,Kg7,Ng4,gxh5,Nf2,Kg6', 'f5+,exf5,Bxd6,Qxd6,Qxa5', 'https://lichess.org/training/M3Wg1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M3YUx', 'Rapid', 'CitronSauvage', 2000, 'muhammedbuba', 2082, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,Be2,e6,O-O,Bd6,Bd2,Qh5,h3,Bxh3,gxh3,Qxh3,Re1,Ng4,Bf1', 'Bh2+,Kh1,Nxf2#', 'https://lichess.org/training/M3YUx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M3zMd', 'Rapid', 'StGeorgesDefense', 1758, 'tonico20', 1591, 'd4,d5,c4,e6,cxd5,exd5,Bf4,Bd6,Bg3,Nf6,Nc3,Bb4,a3,Ba5,e3,Ne4,Qd3,Nxg3,hxg3,g6,Qb5+,Nc6,b4,Bb6,Nxd5', 'a6,Qc4,Be6,Nxb6,Bxc4', 'https://lichess.org/training/M3zMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M46I1', 'Blitz', 'mammatvok', 1742, 'wpn34', 1659, 'e4,g6,c3,Bg7,d3,d6,Nf3,Nc6,Be2,e5,O-O,Nge7,Nbd2,O-O,Re1,f5,exf5,Nxf5,Nb3,Be6,Nbd2,Nh4,Nxh4,Qxh4,Nf3,Qf6,Rf1,h6,Bd2,g5,Qc1,Bf7,h3,Bh5,Re1,Qe6,Nh2,Bxe2,Rxe2,Qf6,Be3,b6,Ng4,Qf7,Qc2,Ne7,b3,Nf5,Rd1,Nxe3,Nxe3,Qh5,Nc4,Rf7,Rde1,Raf8,Ne3,Qh4,Ng4,h5,Nh2,d5,Qd2,e4,dxe4,dxe4,Nf1,Be5,Qe3,c5,Qxe4,Rxf2,Rxf2', 'Qxf2+,Kh1,Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/M46I1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m49RJ', 'Rapid', 'DoganIvanko', 1868, 'rusemobile', 1803, 'd4,e5,dxe5,Bc5,Nf3,d6,exd6,Ne7,Bf4,Bxd6,Bxd6,cxd6,e4,O-O,Bd3,Bg4,h3,Bh5,Nbd2,Nec6,c3,Ne5,Qc2,Nbc6,O-O-O,a6,g4,Bg6,Nc4,Nxf3,Be2,Nfe5,Nxd6,Qg5+,Kb1,Rab8,Rhf1,Rfd8,f4,Qe7,fxe5,Nxe5,Nf5,Qc7,Rxd8+,Rxd8,Rd1,Rc8,Qd2,Kf8,Qd6+,Qxd6,Rxd6,Bxf5,gxf5,f6,Rb6,Rc7,Kc2,Ke7,Re6+,Kd7,h4,h6,h5,Nc6,b4', 'Nd4+,Kd3,Nxe6', 'https://lichess.org/training/m49RJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m4C31', 'Rapid', 'Karpov1986', 2144, 'SG53', 2038, 'e4,e5,f4,exf4,Nf3,Bc5,d4,Bb6,Bxf4,d6,Bc4,Ne7,O-O,O-O,h3,h6,Nc3,a6,Be3,Be6,Bd3,f5,Kh1,fxe4,Bxe4,d5,Bd3,c6,Qd2,Bf5,Rae1,Bxd3,Qxd3,Nd7,Ne2,Nf5,Bd2,Qf6,c3,Rae8,Nf4,Ng3+,Kg1,Nxf1,Rxf1,c5,Ng6,Rf7,Nf4,cxd4,Nxd5,dxc3+,Nxb6,Qxb6+,Kh1,cxd2,Qxd2,Qe3,Qd5,Nf6,Qc4,Qe2,Qc1,Ne4,Re1,Nf2+,Kh2,Qb5,Rf1,Rxf3,gxf3,Re2,Kg3,Qe5+,f4,Ne4+,Kf3,Nd2+,Kg3,Qe3+,Kg4,Nxf1,Qc8+,Qe8,Qc4+,Kh8,Qd3,Qe6+,Kh5,g6+,Kxh6,Re3,Qd8+,Qe8', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/m4C31');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m4cOl', 'Rapid', 'hacigandalf', 2007, 'furkan_tekgezer', 1952, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,Bg5,Be7,e3,O-O,Bd3,h6,Bh4,dxc4,Bxc4,Nd5,Bxe7,Ncxe7,e4,Nf4,O-O,Neg6,Ne2,Qf6,e5,Nxe2+,Qxe2,Qf5,Bd3', 'Nf4,Bxf5,Nxe2+', 'https://lichess.org/training/m4cOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M4dWv', 'Blitz', 'Steel_Chess', 1758, 'amin56', 1583, 'd4,g6,Nf3,Bg7,e3,e6,b3,d5,Bb2,Nf6,Nbd2,O-O,Rc1,Nc6,Be2,b6,O-O,Bb7,c4,Ne7,Ne5,c5,f4,cxd4,exd4,Nd7,Bf3,Nxe5,fxe5,Rb8,a3,dxc4,Nxc4,Bxf3,Qxf3,Nd5,Nd6,f5,exf6,Bxf6,Qg4,e5,Nf5,exd4,Nh6+,Kg7,Bxd4,Bxd4+,Qxd4+,Nf6,Qxd8,Rbxd8,Rc6,Rd3,h3,Rxb3,Ng4,Nxg4,hxg4,Rxf1+,Kxf1,Rxa3,g5,Rg3,Rc7+,Kg8,Rxa7,Rxg5,Rb7,Rb5,Ke2,Rb2+,Kf3,b5,g4,b4,Kf4,b3,Ke5,Re2+,Kf6,b2', 'Rb8+,Re8,Rxe8#', 'https://lichess.org/training/M4dWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m4e8L', 'Rapid', 'goqadze', 1819, 'ichiyasan', 2040, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,Bg4,Nc3,g6,e5,dxe5,Nxe5,Bxd1', 'Bxf7#', 'https://lichess.org/training/m4e8L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m4Egz', 'Blitz', 'jpablito_7', 2515, 'GM mrchess2013', 2463, 'd4,Nf6,Nf3,b6,Bf4,Bb7,e3,e6,h3,d6,Be2,Nbd7,O-O,g6,a4,a6,c3,Bg7,Nbd2,O-O,Bh2,Ne4,Nxe4,Bxe4,Nd2,Bb7,Bf3,Qb8,Bxb7,Qxb7,Qf3,Qxf3,Nxf3,Nf6,Rfd1,Ne4,Kf1,Rfb8,Ke2,b5,axb5,axb5,Nd2,Nxd2,Kxd2,Kf8,Kd3,Ke7,e4,Kd7,b3,d5,f3,Bf8,g4,Bd6,Bxd6,Kxd6,h4,h6,e5+,Kc6,f4,h5,gxh5,gxh5,Rxa8,Rxa8,Rg1,Ra3,b4,Ra2,Rg5,Rf2,Ke3,Rc2,Kd3,Rf2,f5,Rf3+,Kd2,Rxf5,Rxf5', 'exf5,Ke3,Kd7', 'https://lichess.org/training/m4Egz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M4fdC', 'Blitz', 'Waypiki', 1813, 'intern1', 1681, 'd4,d5,Nf3,e6,b3,c5,Bb2,a6,dxc5,Bxc5,Bxg7,f6,Bxh8,Nh6,Nd4,Kf7,Bxf6,Qxf6,c3,Nc6,e3,Nf5,Be2,Nfxd4,exd4,Bd6,Bh5+,Ke7,O-O,Bd7,c4,Nxd4,cxd5,e5,Nd2,Rg8,Ne4,Qh4,g3,Qh3,Nxd6,Kxd6,a4,Bg4,Bxg4,Rxg4,Qd3,Kxd5,Rad1,Re4,Qc4+,Kd6,Rfe1', 'Rxe1+,Rxe1,Nf3+,Kh1,Qxh2#', 'https://lichess.org/training/M4fdC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M4FQs', 'Rapid', 'patwariraghav', 1864, 'AdrianChessZ', 1865, 'e4,e5,d4,d5,exd5,Qxd5,dxe5,Qxe5+,Be3,Qxb2,Bd4,Qb4+,Bc3,Qe4+,Be2,Bc5,Nf3,Bg4,O-O,Nh6,Bxg7,Nc6,Bxh8,Rd8,Qc1,Qxe2,Re1', 'Bxf2+,Kh1,Bxe1', 'https://lichess.org/training/M4FQs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M4GaW', 'Rapid', 'Merpicjusz', 1829, 'giodou', 1841, 'd4,d5,c4,dxc4,Nc3,e6,e4,c5,Nf3,cxd4,Nxd4,Bb4,Qa4+,Nc6,Nxc6,Bxc3+,bxc3,bxc6,Qxc6+,Bd7,Qxc4,Rc8,Qd4,f6,Be2,e5,Qxa7,Rxc3,Bb2,Rc2,Rb1,Ne7,Bd3,Rc7,Qe3,O-O,O-O,Kh8,Ba3,Rc3,Bb4,Rc7,Rfc1,Re8,Rxc7,Qxc7,Rc1,Qb7,Bxe7,Rxe7,Qc5,Bc6,Rb1,Qc7,h3,h6,Bb5,Bxe4,Qxc7,Rxc7,Re1,Bd5,a4,Bc4,Bxc4,Rxc4,Ra1,Rc6,a5,Ra6,Kf1,Kg8,Ke2,Kf7,Kd3,Ke6,Kc4,Kd6,Kb5,Ra8,a6,Rb8+,Ka5,Ra8,Rc1,Ra7,Kb5,Ra8,Rc6+,Kd7,Kb6', 'Rxa6+,Kxa6,Kxc6', 'https://lichess.org/training/M4GaW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M4J0D', 'Rapid', 'shree41', 1870, 'Andhika9', 1757, 'Nf3,f5,d4,Nf6,c4,e6,Nc3,Bb4,Bd2,a6,d5,c5,dxe6,dxe6,Qc2,Nc6,O-O-O,Nd4,Nxd4,cxd4,Qa4+,Bd7,Qxb4,dxc3,Bxc3,Ne4,Bxg7', 'Qg5+,f4,Qxg7', 'https://lichess.org/training/M4J0D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m4jWr', 'Blitz', 'Omareldemiri', 1712, 'MIXserrum', 1706, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,d4,exd4,Nxd4,Bd7,Nc3,Be7,Re1,O-O,Bxc6,Bxc6,Nxc6,bxc6,Bf4,Rb8,Rb1,d5,e5,Nd7,Qg4,Nc5,Bh6,Ne6,f4,f5,exf6,Bxf6,Qxe6+,Kh8,Bg5,Bxg5,fxg5,Qxg5,Qxc6,Qf5,Rf1,Qxc2,Rxf8+,Rxf8,Qxd5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/m4jWr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M4k0t', 'Rapid', 'Jadial', 1617, 'vilicbojan', 1676, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Bb3,Qe7,O-O,Be6,d4,c5,c3,c4,Bc2,Qc7,Ne5,Bd6,f4,O-O,f5,Bxe5,fxe6', 'Bxh2+,Kh1,Ng3+,Kxh2,Nxf1+', 'https://lichess.org/training/M4k0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m4M0u', 'Classical', 'MARTIN-1', 1687, 'hooah_af', 1707, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bg5,f6,exf6,Nxf6,c3,h6,Bh4,g5,Bg3,g4,Nd4,h5,Bxc7,Nxd4,Qxd4,Bg7,Qd1,g3,Bd6,Qf7,hxg3,Ne4,Bf4,Be5,e3,Bxf4,gxf4,d5,Nd2,Bd7,Be2,O-O-O,Nxe4,dxe4,Bxh5,Bb5,Qe2', 'Bxe2,Bxf7,Rxh1+,Kxe2,Rxa1', 'https://lichess.org/training/m4M0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m4Ob1', 'Rapid', 'jrjs', 1863, 'vladi14', 1924, 'Nf3,c5,c4,d6,e3,Nf6,d4,g6,Nc3,cxd4,exd4,Bg7,Be2,O-O,O-O,a6,b3,Bd7,Bb2,d5,cxd5,Bg4,Ne5,Bxe2,Qxe2,Nxd5,Nxd5,Qxd5,Rfd1,Rd8,Nc4,Nd7,Qxe7,b5,Ne3,Qh5,Rac1,Bf6,Qa3,Qh4,g3,Qe4,d5,Ne5,Bxe5,Bxe5,Qe7,Re8,Qb7,Bd4,Rc7,Bxe3,Rf1,Ra7,Qc6,Rxc7,Qxc7,Bg5,d6,Rd8,Rd1,Qa8,d7,Qb8,Qc6,Be7,Re1,Qd6', 'Qxd6,Bxd6,Re8+', 'https://lichess.org/training/m4Ob1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m4pUB', 'Rapid', 'ChessAnatolii55', 1632, 'ALKALDI', 1609, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nh3,Nc6,dxc5,Bxc5,Bd3,Nge7,b4,Nxe5,bxc5,Qxc5,Be2,Nf5,Bf4,Ng6,Bg3,O-O,Qd3,e5,Qb5,Qd6,Nd2,Nxg3,fxg3,f5,O-O,f4,gxf4,Bxh3,gxh3,Nxf4,Bg4,a6,Qb3,Qc5+,Kh1,Kh8,c4,d4,Ne4,Qc6,Qc2', 'd3,Qc3,Qxe4+', 'https://lichess.org/training/m4pUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M4xji', 'Rapid', 'glitterstorm', 1707, 'ChinggisKhaan', 1699, 'd4,d5,Bf4,Nc6,e3,Bf5,h4,h6,h5,e6,Bd3,Nb4,Bxf5,exf5,Nf3,f6,Nbd2,Qd7,a3,Nc6,c3,Na5,Nh4,Ne7,Ng6,Nxg6,hxg6,Bd6,Bxd6,Qxd6,Qh5,f4,exf4,O-O-O,Qf5+,Kb8,O-O,h5,Rfe1,h4,Re6,Qd7,Rae1,h3,gxh3,Nc6,Nf3,a6,h4,Rhe8,h5,Rxe6,Rxe6,Ne7,Qh3,Rh8,f5,Ka7,Nd2,b6,Nf1,Ng8,b4,Nh6,Ne3,Qa4,Re7,Kb7,Nxd5,Qd1+,Kg2,Ng8,Rxc7+,Kb8,Rxg7,Rxh5,Qxh5,Qxh5,Rxg8+,Kb7,Rg7+,Kc6,Ne3,Qg5+,Kh1', 'Qh6+,Kg2,Qxg7', 'https://lichess.org/training/M4xji');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M51xd', 'Blitz', 'RDL74', 2252, 'FiniteEndings', 2268, 'e4,Nf6,e5,Nd5,Nf3,c5,Bc4,Nb6,Bb5,a6,Be2,Nc6,Nc3,d5,exd6,Qxd6,d3,Bg4,g3,e6,Bf4,Qd7,Ne5,Nxe5,Bxg4,Nxg4,Qxg4,h5,Qf3,Bd6,O-O-O,Bxf4+,Qxf4,O-O-O,Ne4,Qe7,Rhe1,Nd5,Qd2,Kb8,Qa5,Rc8,Kb1,c4,dxc4,Rxc4,f4,Rhc8,c3,h4,Ng5,hxg3,Qxd5,exd5,Rxe7,gxh2,Rxf7,d4,Rxg7,dxc3,bxc3,Rxf4,Rh7,Rf2,Ne4,Re2,Rdd7,h1=Q+,Rxh1,Rxe4,Rhh7,Ka8,Rxb7,Rxc3,Ra7+,Kb8,Rxa6', 'Rb4+,Ka1,Rc1#', 'https://lichess.org/training/M51xd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m54D4', 'Rapid', 'titila35', 1962, 'esfandiar', 1937, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,d3,O-O,Bg5,h6,Bh4,Be7,a3,d6,h3,Na5,Ba2,Be6,Bxe6,fxe6,Bg3,Nh5,Bh2,Nf4,Bxf4,exf4,b4,Nc6,Ne2,e5,c4,a6,Qb3,Qe8,b5,axb5', 'cxb5+,Qf7,Qxf7+,Kxf7,bxc6', 'https://lichess.org/training/m54D4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m54Yr', 'Classical', 'Nogger22', 1932, 'FuIcrum', 1658, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Na4,Nxe4,d3,Nxf2,Qf3,Qf6,Nxc5,Nxh1,Bg5,Qxg5,Bxf7+,Kd8,Nxb7+,Bxb7,Qxb7,Qe3+,Ne2,Qf2+,Kd2,Qxf7,Qxa8,Kc8,Rxh1,Qxa2,Nc3,Qxb2', 'Rb1,Qxb1,Nxb1', 'https://lichess.org/training/m54Yr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M554M', 'Rapid', 'Taylan1990', 2063, 'Vadik10', 2024, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,d6,Bc4,Nf6,Bg5,Be7,Nf3,Bg4,Bxf6,Bxf6,Qd5,O-O,Qxb7,Nd7,Bd5,Rb8,Qxa7,Rxb2,O-O,Bxc3,Qa3,Bf6,Ng5,Bxg5,Qxb2,Bf6,Qc1,Bxa1,Qxa1,Ne5,f3,Bd7,f4,Nd3,Rf3,Nc5,Rg3,g6,f5,c6,fxg6,Be6', 'gxh7+,Kxh7,Qg7#', 'https://lichess.org/training/M554M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M55Ef', 'Rapid', 'Nilderin', 1740, 'sabraun', 1766, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,c5,h3,Nf6,d3,Nc6,O-O,Bd7,Nd5,Be7,Nh2,Qc8,f4,exf4,Bxf4,Nxd5,Bxd5,O-O,c3,Be6,Bxc6,Qxc6,Qf3,Rad8,Qg3,Kh7,Ng4,Bxg4,Qxg4,Qd7,Qh5,Qe6,Rf2,Qg6,Qd5,b6,Raf1,Qe6,Qb7,Rd7,Qa6,f6,a4,Ra8,Qb5,Rdd8,Qc6,Rac8,Qb7,Qd7,Qa6,Bf8,a5,Qc7,axb6,axb6,Qc4,Rb8,Qd5,Qe7,Rf3,Qc7,Rg3,Rd7,Qf5+,Kh8,Be3,Qc8,Qh5,Qe8,Qf5,Ra8,b4,Ra3,bxc5,bxc5,Bd2,Ra2,Be1,Rda7,Qd5,Ra1,Rxf6,Rxe1+,Kf2,Rb1', 'Rxh6+,gxh6,Qg8#', 'https://lichess.org/training/M55Ef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m58HE', 'Blitz', 'GM kivanchaznedaroglu', 2636, 'FM DamageDoers', 2642, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,d4,b5,Bb3,d5,dxe5,Be6,Qe2,Be7,Rd1,Qd7,c4,bxc4,Bxc4,O-O,Bf4,Rfd8,Bd3,Nc5,Nc3,Nxd3,Qxd3,Nb4,Qd2,c5,a3,Nc6,Bg5,Rab8,Bxe7,Nxe7,Rac1,Qb7,Na4,c4,Nd4,Nc6,Nc5,Qc8,Ncxe6,fxe6,Rc2,Nxd4,Qxd4,Qb7,h4,Rdc8,Rdd2,Qb6,Qg4,Rb7,h5,Rf7,Rc3,Rf5,Rg3,Qa7,Rf3,Rxf3', 'Qxe6+,Rf7,Qxc8+', 'https://lichess.org/training/m58HE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5aMk', 'Classical', 'AscendingEndlessly', 1754, 'leptir023', 1737, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Bc5,b4,Bb6,b5,Na5,Bxf7+,Kxf7,Nxe5+,Kf6,Qh5,d6,Nf7,Qe8,Qf3+,Bf5', 'Qxf5+,Ke7,Nxh8', 'https://lichess.org/training/M5aMk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m5AvO', 'Rapid', 'BalerineParaTkanAdam', 2165, 'CIPOL', 2227, 'd4,Nf6,Nf3,d5,Bf4,e6,e3,c5,c3,Nc6,Nbd2,b6,h3,Bb7,Bd3,Rc8,Qe2,Be7,O-O,O-O,Ne5,Re8,Ndf3,Nh5,Bxh7+,Kxh7,Ng5+,Bxg5,Qxh5+,Bh6,Bxh6,gxh6', 'Qxf7+,Kh8,Ng6#', 'https://lichess.org/training/m5AvO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m5blK', 'Bullet', 'IM Schachtrainer-Schuh', 2418, 'heihei5', 2207, 'e4,c5,d4,Nc6,c3,d5,exd5,Qxd5,Nf3,e5,Nxe5,Nxe5,dxe5,Qxe5+,Be2,Bd7,O-O,O-O-O,Nd2,Bc6,Re1,Nf6,Bg4+,Nxg4,Rxe5,Nxe5,Qe2,Bd6,Ne4,Rhe8,Nxd6+,Rxd6,Be3,Rg6,g3,Nf3+,Kf1,Nxh2+,Ke1,Nf3+,Kd1,Be4,Kc1,b6,a4,Rd6,a5,Ng1,Qg4+', 'f5,Qd1,Rxd1+', 'https://lichess.org/training/m5blK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m5cve', 'Blitz', 'Benesiu', 1762, 'Brady48', 1710, 'd4,c5,d5,Nf6,c4,e6,Nc3,Be7,e4,Qc7,e5,Qxe5+,Qe2,Qc7,Nb5,Qa5+,Bd2,Qb6,Qe5,d6,Qg3,Nh5,Qc3,a6,g4,Bf6,Qa5,Qxa5,Bxa5,O-O,Nc7,Ra7,gxh5,Bxb2,Rb1,Ba3,Bb6,Bb4+,Kd1,Nd7,Bxa7,b5,dxe6,fxe6,Nxe6,Rxf2,Ne2,Ne5,Ng5,Bg4,Ne4,Rf3,Nxd6,Rd3+,Kc2,Rxd6,cxb5', 'Rd2+,Kb3,Be6+,Ka4,Rxa2#', 'https://lichess.org/training/m5cve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m5d2Z', 'Rapid', 'emawukokkpodo', 1861, 'Tab_38', 1796, 'c4,b6,Nf3,Bb7,e3,e6,Be2,Nf6,d4,d5,Nc3,c5,h3,cxd4,exd4,Bb4,a3,Bxc3+,bxc3,O-O,O-O,Qc7,g3,dxc4,Bf4,Qc8,Rb1,Nd5,Bd2,Nd7,Qa4,N7f6,Qxc4,Qxc4,Bxc4,Nxc3,Bxc3,Bxf3,Rfc1,Bd5,Bxd5,exd5,Bb4,Rfe8,Re1,h6,Kf1,Rac8,Rbc1,a5,Bd2,Ne4,Be3,b5,Rxc8,Rxc8,Rc1,Rc4,g4,Kf8,Ke2,Ke7,f3,Nd6,Bd2,b4,Rxc4,Nxc4,axb4,Nxd2,Kxd2,axb4,Kc2,Kd6,Kb3,Kc6,Kxb4,Kd6,f4,Ke6,Kc5,g6,f5+,gxf5,gxf5+,Kxf5,Kxd5,Kg6,Ke5,f6+,Ke6,f5,d5,f4,d6,f3,d7,f2,d8=Q,f1=Q', 'Qg8+,Kh5,Qg4#', 'https://lichess.org/training/m5d2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5dAH', 'Blitz', 'MOHAMEDMARZOUK', 1826, 'VSI22', 1762, 'f4,d5,Nf3,c5,e3,Nf6,b3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Bb2,e6,d3,Be7,Nbd2,O-O,O-O,Ng4,Qe2,Bf6,Bxf6,Nxf6,c4,Re8,Rad1,d4,e4,Ng4,Rf2,Nxf2,Qxf2,f6,Rf1,Rc8,Nh4,Rc7,f5,e5,g4,Rf8,h3,Rcf7,a4,Be8,Ndf3,Re7,Kh1,Qa5,g5,Bh5,gxf6,gxf6,Rg1+,Rg7,Rxg7+,Kxg7,Qg3+,Kh8,Nxe5,Qd2,Nd7,Rg8,Ng6+,hxg6,Nxf6,Qd1+,Kh2,Qe2+,Kh1,Qf1+,Kh2,Qe2+,Kg1,Rg7', 'Qb8+,Rg8,Qxg8#', 'https://lichess.org/training/M5dAH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m5DdN', 'Blitz', 'Rimahuk', 1802, 'FerFrancoL', 1750, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,O-O,O-O,h3,Na5,Bb3,Nxb3,axb3,d6,d4,exd4,Nxd4,Re8,Re1,a6,Bg5,h6,Bh4,g5,Bg3,Kg7,Nf5+,Bxf5,exf5,Rxe1+,Qxe1,Nh5,Ne4,Nxg3,Nxc5,dxc5,Qc3+,Qd4,Qxg3,Qxb2,Re1,Qxc2,Qe5+,Kh7,Qxc7,Qxf5,Re7,Rf8,Qxb7,a5,Qb6,Qb1+,Kh2,Qb2,Qxc5,Qxb3,Qxa5,Qd3,Qa7,Qg6,Re3,Kg7,Qa1+,Kh7,Qa3,Rg8,Qe7,Rg7,Ra3,Qf5,Rf3,Qg6,Qe8,Qd6+,g3,Qd5,Qe3,Qe6,Qd3+,Rg6,Re3,Qf6,Rf3,Qb6,Kg2,Kg7,Qc3+,f6,Qc8,Kh7,Qf5,Kg7,Qc8,h5,Qd7+,Kh6,Qe7,Qc6,Qf8+,Kh7,Qe7+,Kh6,Qe3,Kh7,Kh2,Kh6,Qd3,Kg7,Qe3,g4,hxg4,hxg4,Rf4', 'Rh6+,Kg1,Rh1#', 'https://lichess.org/training/m5DdN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5eNJ', 'Rapid', 'vbon', 2024, 'Hasbara248', 2003, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Bg5,Nbd7,Qd2,b6,Bd3,e5,Bh6,Ng4,Bxg7,Kxg7,h3,Nh6,O-O-O,a5,g4,a4,g5,Ng8,h4,Ne7,h5,a3,b3,exd4,Nxd4,c5,Ndb5,Ne5,hxg6,fxg6,Rdf1,Nf3,Qe3,Bg4,Nd5,Nc6,Nf6,Rxf6', 'gxf6+,Qxf6,Qh6+', 'https://lichess.org/training/M5eNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5ilD', 'Rapid', 'm6i6m', 1933, 'FAAILIX', 1877, 'e4,c5,Nf3,d6,Bc4,e6,O-O,a6,d4,b5,Be2,cxd4,Nxd4,Bb7,Bf3,Nc6,Nc3,g6,Nxc6,Bxc6,e5,Bxf3,Qxf3,d5,Be3,Bg7,Rad1,Ne7,Rfe1,O-O,Bg5,Qc7,Bf6,Bxf6,exf6,Nf5,g4,Nd6,Qe3,Rfd8,Qh6,Ne8,g5,Qf4,Re3,Qg4+,Rg3,Qh5,Rh3,Qxh6,Rxh6,Nd6,Rd3,Nf5,Rhh3,Rac8,Rhf3,b4,Ne2,Rxc2,Nd4,e5,Nxf5', 'e4,Nh6+,Kf8', 'https://lichess.org/training/M5ilD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5kUm', 'Rapid', 'lenane', 1721, 'goldenboar', 1748, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,cxd5,exd5,e3,O-O,Qb3,c6,Nge2,Qb6,Na4,Qxb3,axb3,Be7,Nec3,Nd7,Nd1,Bb4+,Nac3,Nf6,Bd3,a5,O-O,b6,Na2,Bd6,Ndc3,Ba6,Bxa6,Rxa6,Na4,Ne4,f3,Nd2,Rfd1,Nxb3,Rab1,b5,N4c3,f5,Rd3,a4,e4,fxe4,fxe4,dxe4,Nxe4,Bf4,Nb4,Rb6,Nc5,Nd2,Rd1,Rf7,R3xd2', 'Be3+,Kh1,Bxd2', 'https://lichess.org/training/M5kUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5lVY', 'Classical', 'GaryThome', 1666, 'AlecR', 1712, 'b4,e5,Bb2,Bxb4,Bxe5,f6,Bg3,Nc6,e3,d6,a3,Ba5,Bb5,Bd7,Bxc6,Bxc6,Qh5+,g6,Qxa5,Bxg2,Qb5+,c6,Qd3,d5,f3,Bxh1,Qe2,Ne7,Nc3,O-O,O-O-O,Nf5,Bf4,Nh4,Nh3,Bxf3,Qf2,Bxd1,Qxh4,g5,Qg3,Bh5,Na4,Bg6,Nc5,Qd7,Nxd7,gxf4,Nxf4,Rf7,Nxf6+,Rxf6,Qg5,Raf8,Nxg6,Rxg6,Qe7,Rg7,Qc5,h6,Qxa7,Rf2,Qa8+,Kh7,h4,Rg1+,Kb2,Rxd2,Qxb7+,Rg7,Qxc6,h5,Qc3,Rh2,Qd4,Rb7+,Kc3,Rc7+,Kd3,Rcxc2,Qa7+,Kg6,Qb6+,Kf5,Qb1', 'Rhd2#', 'https://lichess.org/training/M5lVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m5mDr', 'Blitz', 'saveriocp', 1882, 'Doppelbauer56', 1886, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nf3,c6,O-O,Be7,Re1,O-O,c3,Bg4,Bf4,Nbd7,Nbd2,Nh5,Be3,Nb6,h3,Bd7,Ne5,Nf6,Nxd7,Qxd7,Nf3,Bd6,Bg5,Be7,Qc2,h6,Bh4,Rae8,Re2,Bd8,Rae1,Rxe2,Rxe2,Re8,Ne5,Qd6,Nxf7,Rxe2,Qxe2,Kxf7,Bxf6,Bxf6,Qh5+,Kg8', 'Qe8+,Qf8,Bh7+,Kxh7,Qxf8', 'https://lichess.org/training/m5mDr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5MSg', 'Rapid', 'Kichaika', 1625, 'Iulius24', 1748, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,d6,Bg5,Be7,Bb5,Bd7,O-O,O-O,Qd2,h6,Bh4,Nh5,Bxe7,Qxe7,Nd5,Qd8,Rad1,Nf6,Nc3,Ne8,Qe3,a6,Bxc6,Bxc6,Nxe5,Qf6,Nc4,Rd8,e5,Qg6,f3,d5,Qb6,Rd7,Rfe1', 'dxc4,Rxd7,Bxd7', 'https://lichess.org/training/M5MSg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5N0p', 'Classical', 'kavruk', 1773, 'xakal16', 1635, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bg4,Bxc6+,bxc6,dxe5,Bxf3,Qxf3,dxe5,O-O,Nf6,Nc3,Be7,Be3,O-O,Qg3,Qd6,Bh6,Nh5,Qg4,Qxh6,Rad1,Qg5,Qd7,Bd6,Qxc6,Nf4,g3,Nh5,Nd5,Nf6,Nxc7,Bxc7,Qxc7,Nxe4,Qc6,Qf5,f3,Nf6,c3,h5,Qc5,g5,f4,Ne4,Qxe5,Qxe5,fxe5,Rae8,Rf5,Re6,Re1,Nf6', 'Rxf6,Rxf6,exf6', 'https://lichess.org/training/M5N0p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5Px2', 'Rapid', 'Zoran12345', 1872, 'Tihany', 1925, 'e4,d5,exd5,Nf6,h3,c6,dxc6,e5,Nc3,Bc5,Bb5,O-O,Nf3,e4,Nh2,a6,Ba4,b5,Bb3,Nxc6,O-O,Bf5,Ne2,Qc7,Ng3,Bg6,Ng4,Qxg3,Nxf6+,gxf6,d4,exd3,Be3,Qd6,Bh6,Rfe8,cxd3,Qxd3,Qg4,Ne5,Qf4,Qf5,Qg3,Rad8,Rac1,Ba7,Rc7,Bb8,Rb7,Qh5,Bf4,Nc6', 'Bxf7+,Kh8,Bxe8', 'https://lichess.org/training/M5Px2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5R6v', 'Rapid', 'Haziq81', 2058, 'angkol', 2188, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bd3,Bg4,c3,e6,Be3,Qb6,Qc2,Rc8,a3,Nf6,Nbd2,Bd6,h3,Bh5,O-O,O-O,Bg5,Bg6,Bxf6,gxf6,Rfe1,Ne7,Rad1,Bxd3,Qxd3,Qxb2,Rc1,Bxa3,c4,Qxc1,Rxc1,Bxc1,c5,Bxd2,Nxd2,b6,Nb3,bxc5,Nxc5,Rfd8,Qg3+,Ng6,h4,Kf8,h5,Ne7,Qf4,Ng8,h6,e5,Qd2,exd4,Qxd4,Rc6,Nb7,Rd7,Qb4+,Ne7,Na5,Rcd6,Nb3,d4,Nc5,d3', 'Nxd7+,Rxd7,Qb8+,Nc8,Qxc8+', 'https://lichess.org/training/M5R6v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5rel', 'Blitz', 'purt', 2086, 'CarlosMBarrios', 2087, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Nf3,Nbd7,Bd3,e5,d5,a5,O-O,Nc5,Bc2,c6,Be3,cxd5,cxd5,Na6,Rc1,Nd7,Bg5,f6,Be3,Rb8,Qd2,b5,Bh6,b4,Ne2,Nac5,Ng3,Ba6,Rfe1,Qe7,Bxg7,Qxg7,Re3,Rfc8,Ne1,Bc4,b3,Bb5,Bd3,Nxd3,Nxd3,Bxd3,Rxd3,Rxc1+,Qxc1,Nc5,Rf3,Ra8,a4,Qf8,Qf1,Qd8,Qb5,Rb8,Qc4,Kg7,Re3,Qb6,Ne2,Rb7,Qc1,Rc7,Qb2,Nd7,Qd2,Rc5,f4,Qc7,Kh2,Rc2,Qd3,Rb2,Qa6,Nc5,Qa8,Rxb3,Rxb3,Nxb3,fxe5,fxe5,Ng3,Nc5,Qe8,Nxa4,Qxa4,Qb6,Qd7+,Kg8,Qe8+,Kg7,Qe7+,Kg8,Qe6+,Kg7,h4,b3,h5,b2,h6+,Kxh6,Nf5+,Kg5', 'Qe7+,Kf4,Qh4#', 'https://lichess.org/training/M5rel');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m5ujo', 'Rapid', 'Yason917', 1610, 'george1957', 1593, 'e4,e5,Nc3,Nc6,Bc4,Bc5,Nf3,d6,d3,Nd4,O-O,Qf6,Nd5,Nxf3+,Qxf3,Qxf3,gxf3,Bb6,Bb5+,Bd7,Bxd7+,Kxd7,Be3,Nf6,Bg5,h6,Nxf6+,gxf6,Bxf6,Rhg8+,Kh1,Rg6,Bh4,Rag8,Bg3,Rf6,Rae1,Rxf3,Kg2,Rf6,b4,h5,h4,a5,bxa5,Bxa5,Rb1,b6,a4,Bc3,Rbd1,Ra8,f3,Rxa4,Be1,Rg6+,Kh3,Ba5,Bxa5,Rxa5,Ra1,Rc5,c4,b5,Rac1,bxc4,Rxc4,Rxc4,dxc4,c5,Rd1,Ke6,Ra1,Rf6,Kg3,Rf4,Ra8,f5,Rf8,fxe4,Rxf4,exf4+,Kxf4,e3,Kxe3,Ke5,Kd3', 'Kf4,Ke2,Kg3,Ke3,Kxh4,Kf4,Kh3', 'https://lichess.org/training/m5ujo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5urw', 'Rapid', 'Sobhani', 1981, 'ivko73', 1863, 'e4,g6,f4,Bg7,f5,d6,fxg6,fxg6,Nf3,Nf6,Nc3,c5,Bc4,Nc6,O-O,a6,Ng5,Ne5,Bd5,h6,Ne6,Bxe6,Bxe6,b5,d4,cxd4,Qxd4,Rc8,a3,Rc5,b4,Rc7,Bd2,Nc6,Qb6,Nxe4,Nxe4', 'Bd4+,Be3,Bxb6', 'https://lichess.org/training/M5urw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5Vqx', 'Blitz', 'frankie_gm', 2193, 'Caissafrans', 1875, 'd4,c6,Nf3,e6,e3,d5,Bd3,Nd7,b3,Nb6,Bb2,Bd6,Nbd2,Bd7,Ne5,Bxe5,dxe5,Qe7,f4,O-O-O,Nf3,f6,Qd2,fxe5,Nxe5,Nf6,O-O-O,Ne4,Bxe4,dxe4,Qe2,Nd5,c4,Nb4,Ba3,Nd3+,Rxd3', 'Qxa3+,Qb2,Qxb2+,Kxb2,exd3', 'https://lichess.org/training/M5Vqx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5W4a', 'Rapid', 'ipong15', 1864, 'vlaser68', 1826, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,Ne7,Nge2,Ng6,O-O,Be7,f4,O-O,f5,exf5,Rxf5,Nd7,Ng3,c5,Be3,Qb6,Na4,Qc6,Nxc5,Nxc5,dxc5,Bxc5,c3,Nh4,Rf2,Rae8,Bd4,b6,b4,Be7,Raf1,Bd8,Nf5,Ng6,b5,Qc7,a4,Nxe5,Bxe5,Rxe5,Qg3,g6', 'Nh6+,Kg7,Rxf7+', 'https://lichess.org/training/M5W4a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5XEL', 'Classical', 'gabriel_limacv', 1753, 'genbrid', 1800, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,Be7,b3,Bg4,Bb2,a6,h3,Bxf3,Qxf3,b5,Bd5,c6,Bxf7+,Kxf7,O-O,Ke8,Ne2,Rf8,d3,Kd7,d4,Kc7,dxe5,dxe5,Bxe5+,Bd6,Rad1,Bxe5,Rxd8,Rxd8,Qf5,Nbd7,Nc1,g6,Qf3,Nc5,Nd3,Nxd3,cxd3,Rf8,Rc1,Bd4,Qf4+,Kb6,Qd6,Bxf2+,Kh1,Rac8,Rf1,Nh5', 'Rxf2,Rxf2,Qd4+,Kb7,Qxf2', 'https://lichess.org/training/M5XEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m5xWN', 'Rapid', 'fulleclipse-original', 1791, 'jiku9990', 1780, 'd4,Nf6,c4,g6,d5,c5,f4,d6,Nf3,Bg7,e3,O-O,Be2,e6,O-O,exd5,cxd5,Nbd7,Nc3,Nb6,e4,Re8,e5,dxe5,fxe5,Nfxd5,Nxd5,Nxd5,Bg5,Qd7,Bc4,Nb6,Qxd7,Bxd7,Bb3,Bxe5,Nxe5,Rxe5,Bf6,Re2,Bd1,Re6,Bg5,Re5,Bh6,Nc4,Bf3,Nd2,Bxd2,Bc6,Bxc6,bxc6,Bc3,Re2,Rae1,Rc2,Rf2,Rxf2,Kxf2,h5,Re5,Kh7,Rxc5,Rc8,Bd4,a6,Ra5,Ra8,Re5,Rd8,Ke3,Kg8,Ra5,Ra8,Bb6,f6,Kd4,Rb8,Kc5,Re8,Kxc6,Re6+,Kb7,Re2,Rxa6,Rxb2,Kc6,Kf7,a4,Rxg2,Bc7,Rc2+,Kd7,Rd2+,Rd6,Ra2,a5,g5,a6,Kg6,Bd8,g4,Rxf6+,Kg7,Rd6,Rxh2,a7,Ra2,Bb6,h4,Kc7,h3,Kb7,h2,Rd1,g3,a8=Q', 'Rxa8,Kxa8,g2', 'https://lichess.org/training/m5xWN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5Zfk', 'Blitz', 'feraaryanti', 1836, 'Gzaborey', 1869, 'd4,d5,c4,e6,Nf3,Nf6,a3,Be7,Nc3,a6,h3,b5,cxb5,O-O,bxa6,Bxa6,b4,c6,Bb2,Nbd7,Na4,Nb6,Nc5,Bxc5,dxc5,Nc4,Qc2,Nxb2,Qxb2,h6,e3,Bxf1,Kxf1,Ne4,Ke2,f5,Nd2,Qe7,Nxe4,fxe4,a4,Qf7,Rhf1,Qg6,g3,Qh5+,Ke1,Qxh3,b5,cxb5,axb5,Rxa1+,Qxa1,Qg2,c6,Rc8,Qa7,Qh3,c7,Kh7,b6,e5,Qb8,Qd7,Ke2,Qb5+,Ke1,Qb1+,Ke2,Qd3+,Ke1,d4,exd4,exd4,Qxc8,e3,Rh1', 'Qd2+,Kf1,Qxf2#', 'https://lichess.org/training/M5Zfk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5zJh', 'Rapid', 'Thawne', 2024, 'Teixeira-A', 1970, 'd4,Nf6,Bf4,g6,h3,Bg7,e3,O-O,c3,c5,Nf3,Qb6,Qb3,cxd4,exd4,Qd8,Be2,b6,Nbd2,Bb7,O-O,Nc6,Ne5,Na5,Qc2,d6,Nd3,Rc8,Bf3,Bxf3,Nxf3,Nd5,Bg3,b5,Qe2,Re8,Nf4,Nc7,Rad1,a6,Rfe1,Qd7,Nd3,Nd5,Nf4,Nxf4,Bxf4,Qf5,Qe4,Qxe4,Rxe4,Nc4,Bc1,e6,Nd2,d5,Re2,Nxd2,Rexd2,Rc6,Re2,Rec8,Bf4,a5,a3,b4,axb4,axb4,cxb4,Rc4,Be5,Rxb4,Bxg7,Kxg7,Red2,Rcb8,Rb1,f6,Kf1,R8b5,Re2,Kf7,Rd2,e5,dxe5,fxe5,f3,Ke6,Ke2,Rb3,Kf2,g5,Rc2,Kd6,Kf1,h5,Rbc1,Rxb2,Rc6+,Ke7,Rc7+,Kf6', 'R1c6+,Kf5,Rf7#', 'https://lichess.org/training/M5zJh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m5ZkC', 'Rapid', 'Demarshal', 1694, 'Vasileios7', 1713, 'e4,b6,d4,Bb7,Nc3,e6,d5,exd5,exd5,Bb4,a3,Bxc3+,bxc3,Qe7+,Be2,Qc5,c4,b5,Be3,Qd6,Nf3,bxc4,Bxc4,Nf6,Rb1,Bxd5,Bxd5,Nxd5,Bxa7,Nc6,Qe2+,Nde7,Be3,O-O,O-O,Rxa3,Rfd1,Qg6,Bc5,Rxf3,Qxf3,Re8,Rxd7,Ne5,Qd1,Nxd7,Qxd7,Kf8,Bxe7+,Rxe7', 'Rb8+,Re8,Qxe8#', 'https://lichess.org/training/m5ZkC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M5ZNS', 'Blitz', 'Dimons', 2297, 'FM fywong2', 2463, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,Nd4,O-O,Nxb5,Nxb5,d6,c4,a6,Nc3,e6,d3,Ne7,Qe1,Nc6,Kh1,O-O,Be3,f5,Rd1,Qb6,b3,Bd7,Ne2,Rae8,Qf2,Qa5,Ng3,b5,d4,cxd4,Nxd4,bxc4,bxc4,Qc7,exf5,exf5,Nxc6,Qxc6,Bd4,Bh6,Qd2,Qxc4,Rc1,Qd5,Rc7,Bb5,Rd1,Rf7,Rxf7,Qxf7,Bb2,Re6,h3,Qe7,Qd5,Qf7,Kh2,Bg7,Bxg7,Kxg7,Rc1,Kh6,Rc8,Qe7,Nxf5+,gxf5,Qxf5,Rg6,Rf8,Qe2,Qd5,Qd3,Rf5,Qxd5,Rxd5,Bc6,Rd2,Kg7,g4,Rf6,Kg3,h6,h4,Kf7,g5,hxg5,hxg5,Re6,Kg4,Bd7,Kh5,Ke7,f5,Re3,f6+,Ke6,Kg6,Be8+,Kg7,Rg3', 'Re2+,Kf5,Rxe8,Rxg5+,Kf7', 'https://lichess.org/training/M5ZNS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m62p5', 'Rapid', 'asker711', 1642, 'Gtnh', 1862, 'e4,c5,d3,Nc6,a3,e6,h3,Nf6,Nf3,d6,Bg5,Be7,Nc3,a6,Be2,h6,Be3,b5,b4,cxb4,axb4,Nxb4,Qb1,d5,Bd4,Bb7,Bxf6,Bxf6,Qxb4,dxe4,dxe4,Qc7,O-O,Bxc3,Bxb5+,axb5,Qxb5+,Qc6', 'Rxa8+,Bxa8,Qb8+,Ke7,Qxh8', 'https://lichess.org/training/m62p5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M64Bc', 'Classical', 'piero1', 1745, 'kmhmahanny', 1645, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,c6,Bd2,Nf6,Nf3,Bg4,Be2,Bxf3,Bxf3,e5,Ne4,Qd8,Bg5,Be7,O-O,Nxe4,Bxe7,Qxe7,dxe4,O-O,Qe2,Nd7,Rad1,Rad8,Rd2,Nf6,g3,Rxd2,Qxd2,Rd8,Qe3,c5,Rd1,Rxd1+,Bxd1,Qd6,Qd3,Nxe4,Qxe4,Qxd1+,Kg2,Qd7,Qxe5,Qc6+,Kh3,Qe6+,Qxe6,fxe6,Kg4,Kf7,Kf4,Kf6,Ke4,h5,b3,e5,c3,Ke6,f4,exf4,gxf4,g6,h4,Kf6,b4,cxb4,cxb4,a6,a4,Ke6,a5,Kf6,Ke3,Kf5,Kf3,Ke6,Ke4,Kf6,Kf3', 'Kf5,Ke3,Kg4', 'https://lichess.org/training/M64Bc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m659G', 'Rapid', 'pIlaba', 1742, 'Berrondo1985', 1814, 'd4,Nf6,Nc3,d5,Bg5,Nbd7,Nf3,h6,Bxf6,Nxf6,e3,Bg4,h3,Bh5,Be2,Bg6,Qd2,e6,O-O-O,Bb4,h4,O-O,Ne5,Ne4,Qe1,Nxc3,bxc3,Ba3+,Kd2,c5,h5,Bh7,g4,Rc8,f4,cxd4,exd4,Qf6,Qg3,Qd8,g5,Qa5,gxh6,g6,hxg6,fxg6,Nxg6,Rxc3,Qxc3', 'Bb4,Nxf8,Bxc3+,Ke3,Kxf8', 'https://lichess.org/training/m659G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m68v3', 'Rapid', 'Maravaldo', 1774, 'mathewjohn1965', 1788, 'e4,e5,Nf3,d6,Bc4,Be7,c3,Nf6,d3,O-O,O-O,Nc6,Bg5,a6,a3,Na5,Bd5,Nxd5,exd5,Bxg5,b4,c6,bxa5,cxd5,Nxg5,Qxg5,f4,exf4,Qd2,Re8,Qxf4,Qg6,Qf3,Be6,Nd2,Rac8,Rac1,Rc7,d4,Rec8,Qe3,Re7,Rf3,Rce8,Qf4,Bg4,Rg3,Re1+,Rxe1,Rxe1+,Nf1,Re4,Re3,Rxe3,Qxe3,Qe6,Qg3,Bf5,Ne3,Be4,Qf4,f5,Qg5,h6,Qd8+,Kh7,Qh4,g5,Qh3,Bb1,Qf3,f4,Nxd5,Be4', 'Qxe4+,Qxe4,Nf6+,Kg7,Nxe4', 'https://lichess.org/training/m68v3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M69Gp', 'Blitz', 'SuperBoldi', 2312, 'CM Fariasov', 2314, 'd4,Nf6,Nc3,d5,Bf4,Bf5,f3,c5,e3,cxd4,exd4,Nc6,Bb5,Qb6,Bxc6+,bxc6,Na4,Qa5+,c3,e6,Ne2,c5,Nxc5,Bxc5,dxc5,Qxc5,Qd4,Qc6,O-O,O-O,Rac1,Rac8,Rfd1,Rfe8,Be5,Nd7,Bg3,Qa6,Rd2,Qxa2,Bf2,Nc5', 'b4,Qxd2,Qxd2', 'https://lichess.org/training/M69Gp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m6bj3', 'Rapid', 'AlexSh_95', 2270, 'BigEvo8', 2092, 'Nf3,Nf6,d4,d5,c4,c6,g3,a6,Bg2,dxc4,a4,Nbd7,a5,e6,O-O,Bb4,Qc2,Bxa5,Qxc4,O-O,Bg5,h6,Bf4,Bc7,Ne5,Nxe5,dxe5,Nd7,Rd1,Qe7,Nc3,Nxe5,Qe4,Ng6,Be3,e5,h4,Rd8,h5,Nf8,Rxd8,Qxd8,Rd1,Qe7,f4,f5,Qc2,e4,Na4,Ne6,Bh3,Qf7,Nb6,Bxb6,Bxb6,Qxh5,Kg2,Qg6,e3,c5,Bxc5,Nxc5', 'Rd8+,Kh7,Qxc5', 'https://lichess.org/training/m6bj3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M6Epi', 'Blitz', 'Sardegna', 2062, 'GonzalezGomezErnesto', 2056, 'e4,c5,Nc3,e6,f4,Nf6,Nf3,Nc6,g3,d6,Bg2,Be7,O-O,O-O,d3,Rb8,Be3,b5,Qd2,Bb7,a3,b4,axb4,Nxb4,Ne2,a5,h3,Qc7,g4,Bc6,f5,exf5,gxf5,d5,e5,Nh5,c3,Nxd3,Qxd3,Bb5,Qd2,Bxe2,Qxe2,Ng3,Qd2,Nxf1,Rxf1,Rfd8,f6,Bf8,fxg7,Bxg7,Kh1,d4,Bf4,Qe7,cxd4,cxd4,Bg5,f6,exf6,Bxf6,Re1,Bxg5,Rxe7,Bxd2,Nxd2,Rxb2,Nc4,Rc2,Ne5,d3,Be4,Re2', 'Bxh7+,Kh8,Ng6#', 'https://lichess.org/training/M6Epi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m6F6T', 'Blitz', 'MI-Huata', 1904, 'BasementHero', 1935, 'g3,e6,Bg2,Nf6,Nf3,c6,O-O,d5,b3,c5,Bb2,Nc6,c3,Be7,d4,b6,Nbd2,Ba6,Re1,O-O,Qc2,Rc8,Rad1,cxd4,cxd4,Nxd4,Qb1,Nxe2+,Kh1,Ne4,Nxe4,f5,Ned2,Nc3,Bxc3,Rxc3,Qb2,Bf6,Ne5,Qc7,f4,Rc2,Qb1,Rc8,Ndf3,h6,Nd4,Rxg2,Kxg2,h5,Rc1,Qd6,Rxc8+,Bxc8,Qc2,Ba6,Qc6,Qa3,Qe8+,Kh7,Qg6+,Kh8,Nxe6,Qxa2+,Kh3,Be2,Nf7+,Kg8,Nh6+,Kh8,Nf7+,Kg8,Nfg5', 'Bg4+,Kh4,Qxh2#', 'https://lichess.org/training/m6F6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M6Fly', 'Rapid', 'DiplomatChess', 1980, 'Warguengar', 1749, 'd4,e6,e4,d5,exd5,exd5,Bd3,Nf6,Ne2,Bd6,O-O,O-O,Bg5,Bxh2+,Kxh2,Ng4+,Kg1,Qxg5,Nd2,h5,Nf3,Qf6,Ng3,h4,Nh1,Nc6,c3,Ne7,Re1,Nf5,Ne5,Nxe5,Rxe5,h3,Qh5,g6,Qxh3,Kg7,Qf3,Rh8,Ng3,Nxg3,Qxg3,Qh4,Qxh4,Rxh4,Rxd5,Be6,Re5', 'Rah8,f4,Rh1+,Kf2,Rxa1', 'https://lichess.org/training/M6Fly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M6Gb3', 'Blitz', 'ersacan1', 1845, 'QuestoGuy', 1795, 'e4,e5,Nf3,Nc6,b3,Nf6,Bb2,d6,d3,Bg4,Be2,Be7,Nbd2,O-O,Nc4,Re8,O-O,Bf8,Ne3,Bh5,Nf5,Bxf3,Bxf3,g6,Ne3,Bg7,c3,Nb8,Be2,Nbd7,f4,exf4,Rxf4,c6,Ng4,d5,Nxf6+,Nxf6,e5,Nh5,Rf1,Bxe5,Bxh5,gxh5,Qxh5,Bg7,Qxf7+,Kh8,Rae1,Rxe1,Rxe1,b6,d4,Qg5,Rf1,Rg8,Bc1', 'Bxd4+,Kh1,Qxg2#', 'https://lichess.org/training/M6Gb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m6Ipz', 'Rapid', 'SardarMelli', 1686, 'Nitramrium', 1729, 'e4,e6,d4,d5,Nd2,Nf6,Bd3,c5,e5,Nfd7,c3,Nc6,Ngf3,Be7,O-O,O-O,Re1,Qb6,Nf1,f6,exf6,Nxf6,Ng3,cxd4,cxd4,Nb4,Bb1,Bd7,a3,Nc6,Ne5,Nxe5,dxe5,Ng4,Be3,Nxe3,Rxe3,Bc5,Qh5,h6,Qg6,Bxe3', 'Qh7+,Kf7,Bg6+,Ke7,Qxg7+', 'https://lichess.org/training/m6Ipz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m6LXG', 'Blitz', 'FM slamdunk4', 2346, 'NM Ramdon35000', 2312, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,Be3,Bg4,Nbd2,Bb6,a4,Bxe3,fxe3,a6,O-O,Qd7,Rf2,Be6,Qb3,Bxc4,Nxc4,b6,Raf1,O-O,Nh4,Ng4,Rf3,Qe6,h3,Nh6,Nf5,Nxf5,exf5,Qf6,Nd2,d5,Qxd5,Rad8,Qc4,Na5,Qxa6,Qd6,e4,Qc5+,Kh2,Ra8,Qb5,Qxb5,axb5,Nb7,f6,g6,Nc4,Rfe8,Ne3,Ra2,R1f2,Nc5,Nd5,Ra7,h4,h5,Ne7+,Kf8,Nc6,Ra2,b4,Rxf2,Rxf2,Nxd3,Rd2,Nf4,Rd7,Ne2,Nd8,Nxc3,Rxf7+,Kg8,Rg7+,Kf8,Nc6,Nxe4,Rxg6,Kf7,Rh6', 'Nxf6,Nxe5+,Rxe5', 'https://lichess.org/training/m6LXG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M6MGd', 'Rapid', 'AhBeg', 1986, 'poq124816', 1884, 'g3,e5,Bg2,d5,e3,c5,Ne2,Nc6,O-O,Bd6,d4,cxd4,exd4,e4,Nec3,Be6,b3,Qd7,Nb5,Be7,Qd2,a6,N5c3,Nf6,Qg5,O-O-O,Na4,Qc7,c3,b5,Nb2,Qd7,Qxg7,Ng4,h3,Rdg8,Qxg8+,Rxg8,hxg4,Bxg4,Nd2,Bg5,a4,Bxd2,axb5,Bxc3,bxc6,Qxc6,Ra2,Bxd4,Na4,Bf3,Bh3+,Kb7,Bf4,h5,Rc1,Qxc1+,Bxc1,Rxg3+,Kh2,Rg6,Be3', 'Be5+,Bf4,Bxf4#', 'https://lichess.org/training/M6MGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m6tlc', 'Blitz', 'Xibalva', 1952, 'Plip', 1876, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,f3,O-O,Qd2,b5,O-O-O,Be6,g4,b4,Nd5,Ne8,Nxe7+,Qxe7,h4,a5,Kb1,a4,Nc1,b3,cxb3,axb3,Nxb3,Bxb3,axb3,Qb7,Bc4,Nc6,g5,Na5,Bd5,Qb8,h5,Nxb3,Qg2,Ra1+,Kc2,Rxd1,Rxd1,Nd4+,Rxd4,exd4,Bxd4,Qc8+,Bc3,Nc7,Bb3,Nb5,g6,Nd4+,Kd3,Nxb3', 'gxh7+,Kxh7,Qxg7#', 'https://lichess.org/training/m6tlc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M6uNX', 'Classical', 'batuhanacarxs', 1651, 'krasavela', 1666, 'e4,e5,Nc3,Nf6,d3,h6,Nf3,Nc6,g3,Bb4,Bg2,d5,a3,dxe4,axb4,exf3,Bxf3,Nxb4,O-O,O-O,Ne4,Nxe4,Bxe4,f5,Bg2,c6,g4,fxg4,Ra4,b5,Rxb4,Qd6,c3,Be6,d4,a5,dxe5', 'Qxd1,Rxd1,axb4', 'https://lichess.org/training/M6uNX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M6vbK', 'Rapid', 'dypaul2272', 2098, 'traste21', 1973, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,g3,O-O,Bg2,e5,d5,Nbd7,Nge2,a5,O-O,Nc5,Bg5,Bg4,f3,Bd7,Qd2,Qc8,Nb5,Ne8,Bh6,f5,Bxg7,Kxg7,Nbc3,fxe4,fxe4,Nf6,Rf2,Bh3,Raf1,Bxg2,Kxg2,Ncxe4,Nxe4,Nxe4,Rxf8,Nxd2,R1f7+,Kh6,Rxc8,Rxc8,b3,a4,Nc3,axb3,axb3,Nxb3,Nb5,Nd2,Nxc7,Nxc4,h3,e4,g4,e3,Ne6,Ne5', 'g5+,Kh5,Rxh7#', 'https://lichess.org/training/M6vbK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M6weW', 'Blitz', 'Neptunel', 2000, 'hessam2006', 2075, 'b4,e5,Bb2,d6,e3,a6,c4,g6,Nf3,Bg7,Be2,Ne7,O-O,Be6,d4,e4,Nfd2,c5,d5,Bxb2,dxe6,Bxa1,exf7+,Kxf7,Nxe4,Kg7,bxc5,d5,Nd6,Nbc6,f4,dxc4,f5,Nxf5,Qd5,Nxd6,cxd6,Rf8,Bxc4,Rxf1+,Kxf1,Qf6+,Kg1,Rd8,Nd2,Bc3,Ne4,Qf8,Ng5,Qxd6,Qf7+,Kh6,Qxh7+,Kxg5,h4+,Kf6', 'Qf7+,Ke5,Qf4#', 'https://lichess.org/training/M6weW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M6YxL', 'Rapid', 'Fedor_29', 1755, 'rahulrcb23', 1929, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,b4,Bb6,a4,a6,a5,Ba7,d4,exd4,Nxd4,Bxd4,cxd4,Qf6,Bb2,Be6,Bxe6,Qxe6,Qe2,Nce7,Nd2,Nf6,f3,O-O,O-O,Ned5,Qc4,Ne3,Qxe6,fxe6,Rfc1,b5,Rxc7,d5,e5,Nh5,Rc3,Nc4,Nxc4,bxc4,Bc1,Nf4,Bxf4,Rxf4,Rd1,Rb8,g3,Rf7,Rb1,Rfb7,Ra3,Rxb4,Rxb4,Rxb4,Kf2,Rb3,Ra2,Kf7,Ke2,Ke7,f4,Kd7,Kd2,g6,Ra1,Kc6,Ra2,Kb5,Ra1,Kb4,Kc2,Ra3,Rb1+,Kxa5,Rb7,Ra2+,Rb2,Rxb2+,Kxb2,Kb4,h3,h5,g4,hxg4,hxg4,a5', 'f5,gxf5,gxf5', 'https://lichess.org/training/M6YxL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M72jK', 'Classical', 'chessplayer48mex', 1932, 'mohamedmahmoud2020', 1921, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d3,d6,Nc3,Bg4,Be3,Qe7,h3,Bxf3,Qxf3,O-O-O,Nd5,Nxd5,exd5,Nd4,Qd1,Kb8,c3,Nf5,Bd2,Nh4,Qb3,Qd7,Ba6,c6,dxc6', 'Qxc6,Bxb7,Qxb7', 'https://lichess.org/training/M72jK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M73DW', 'Blitz', 'Guillaume-EPL', 1793, 'Aggelakiselias13', 1918, 'd4,c5,d5,Nf6,c4,d6,Nc3,g6,e4,Bg7,f4,O-O,Nf3,a6,Bd3,Bg4,O-O,Bxf3,Qxf3,Nbd7,f5,Ne5,Qg3,Nxd3,Qxd3,Nd7,Qg3,Ne5,b3,Rb8,a4,Qc7,Ra2,Qa5,Ne2,b5,Bd2,Qb6,a5,Qa7,cxb5,Rxb5,Nf4,c4+,Be3,Qc7,bxc4,Qxc4,fxg6,hxg6,Raf2,Qxe4,Bb6,Nc4,Re2,Qf5,Ne6,fxe6,Rxf5,Rxf5,Rxe6,Nxb6,axb6,Rb1+,Re1', 'Bd4+,Kh1,Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/M73DW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m75ND', 'Rapid', 'kram555', 2106, 'Velikiyihmik', 2032, 'b4,f5,c4,Nf6,d4,g6,e3,Bg7,Nf3,d6,Nc3,O-O,a3,Nbd7,Qb3,e5,Bb2,Re8,Kd2,Ne4+,Ke1,exd4,Nxe4,fxe4,c5+,Kh8,Nxd4,dxc5,Nb5,Ne5,bxc5,Bg4,h3,Bf3,gxf3', 'Nxf3+,Ke2,Qd2#', 'https://lichess.org/training/m75ND');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m77Bf', 'Rapid', 'm185', 1683, 'ap27eiv', 1698, 'e4,f5,e5,f4,Nf3,e6,Bc4,Ne7,d4,g5,Nxg5,Ng6,Nf3,h5,Bd3,Nh4,Bxf4', 'Nxg2+,Kf1,Nxf4', 'https://lichess.org/training/m77Bf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7ckp', 'Rapid', 'indroneelc', 1770, 'cricao', 1773, 'e3,Nc6,c4,e6,a3,d5,cxd5,exd5,Nf3,Bg4,Qb3,Bxf3,gxf3,Rb8,Nc3,Nf6,Qa4,a6,b4,Be7,Bb2,O-O,Qc2,d4,Ne4,Nxe4,Qxe4,dxe3,dxe3,Bf6,Rd1,Qe7,Qxe7,Bxe7,Rg1,f6,Rd7,Rf7,Rxc7', 'Bxb4+,axb4,Rxc7', 'https://lichess.org/training/M7ckp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7e84', 'Classical', 'M_M1985', 1802, 'Rastacoco', 1782, 'e3,e5,Nc3,Nf6,b3,d5,Bb2,Bg4,Be2,Bxe2,Qxe2,Nc6,a3,Qd7,Nf3,Be7,Nb5,e4,Ne5,Nxe5,Bxe5,Bd8,O-O,c6,Nd4,O-O,c4,Ng4,f3,Nxe5,cxd5,exf3,Nxf3,Qxd5,Nd4,Bf6,Rxf6,gxf6,Rf1,Kh8,Rxf6,Rg8,Rh6,Rg6,Rh5,Rag8,g3,Qc5,Nf5,Qxa3', 'Rxh7+,Kxh7,Qh5+,Rh6,Qxh6#', 'https://lichess.org/training/M7e84');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7fyF', 'Rapid', 'stirlits', 2208, 'Pavel23', 2193, 'e4,c5,c4,e6,f4,d5,cxd5,exd5,e5,Nc6,d3,Nh6,Nf3,Be7,Be2,O-O,O-O,Nf5,Nc3,Be6,a3,f6,Bd2,Rc8,Rc1,a6,Na4,Ncd4,Nxd4,Nxd4,Bf3,b5,Nc3,Qd7,exf6,Bxf6,g3,Nxf3+,Qxf3,Rcd8,Rfe1,Bg4,Qg2,Bd4+,Kh1,Bf5,Qf3,Qf7,h4,Qg6,Nxd5,Bf6,Nxf6+,Rxf6,Rxc5,Rxd3,Qf2,Rxg3,Re3,Be4+,Rxe4,Qxe4+,Kh2,Rd3,Rc8+,Rf8,Rxf8+,Kxf8,Qc5+,Qe7', 'Qf5+,Kg8,Qxd3', 'https://lichess.org/training/M7fyF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7ho9', 'Classical', 'bkkuiper', 1803, 'Bajrolini', 1783, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,Nc3,e5,Nf3,Rc8,O-O,Be7,Bg5,O-O,Re1,Re8,Rc1,Qb6,Na4,Qc6,b3,b5,Nb2,Nxe4,Bxe7,Rxe7,Rxe4,Qxe4,Qxd6,Rce8,Nd3,f6,Nd2,Qe2,Qd5+,Kh8,Nf1,a6,Ng3,Qd2,Rf1,Nb6,Qc5,e4,Qxb6,exd3,cxd3,Re1,Qxa6,h6,Qxb5,Rxf1+,Nxf1,Re1,d4,Qxd4,a4,Rb1,a5,Qc3', 'Qe8+,Kh7,Qe4+,g6,Qxb1', 'https://lichess.org/training/M7ho9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7Ifc', 'Rapid', 'idob', 1956, 'mawas', 1871, 'e4,e5,f4,exf4,Nf3,f6,Bc4,c6,O-O,d5,exd5,cxd5,Qe2+,Be7,Bb3,g5,Nc3,d4,Nd5,Bg4,Qb5+,Qd7,Nc7+,Kd8,Qxd7+,Kxd7,Nxa8,Nc6,Ba4,Bxf3,Rxf3,Nh6,Rd3,Bc5,b3,Rxa8,Bb2,Nf5,c3,Kc7,Bxc6', 'dxc3+,Kf1,cxb2', 'https://lichess.org/training/M7Ifc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7ihU', 'Blitz', 'nudor', 1701, 'Thesparx98', 1775, 'e4,c5,Nf3,Nc6,c3,e5,Bb5,d6,O-O,Nf6,d3,Be7,Be3,a6,Qa4,Bd7,Bxc6,Bxc6,Qc2,b5,b4,Qc7,Nbd2,O-O,Nh4,Ng4,Nf5,Nxe3,fxe3,Bg5,Rf2,g6,h4,Bf6,Nh6+,Kg7,Raf1,Bxh4', 'Rxf7+,Rxf7,Rxf7+,Qxf7,Nxf7', 'https://lichess.org/training/M7ihU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m7iXd', 'Blitz', 'Javiercohend', 1937, 'ajocelynpatrick', 1892, 'e4,c5,Bc4,e6,Nc3,Nc6,d3,Nf6,Bg5,Be7,Nge2,O-O,O-O,a6,f4,b5,Bb3,Na5,Ng3,Nxb3,axb3,Bb7,Bxf6,Bxf6,Qg4,Bxc3,bxc3,f5,exf5,exf5,Nxf5,Qf6,Nh4,Qxc3,Rac1,Rae8,f5,Kh8,Qh5,Qd4+,Kh1,Qd5,Rf3,Qf7,Ng6+,Kg8', 'Qxh7+,Kxh7,Rh3+,Kg8,Rh8#', 'https://lichess.org/training/m7iXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m7JOI', 'Classical', 'uci-ugp', 1983, 'wilsonjb', 1725, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Be2,Nc6,Be3,g6,a3,Bg7,Qd2,O-O,O-O,Ng4,Bxg4,Bxg4,f3,Bd7,Nde2,Rc8,Rab1,Ne5,Bh6,Nc4,Qg5,Rc5,Qc1,Bxh6,Qxh6,Qb6,Kh1,Rh5,Qf4,Qd8,Nd5,e5,Qc1,Qh4,Kg1,Bb5,h3,Nxa3,bxa3,Bxe2,Rf2,Bb5,c4,Bd7,Kf1,Rb8,f4,Kg7,Qe3,Be6,Kg1,Rc8,fxe5,dxe5,Rxb7,Rxc4,Rb4,Rxb4,Nxb4,Rg5,Qf3,Qxh3', 'Qf6+,Kh6,Qxg5+,Kxg5,gxh3', 'https://lichess.org/training/m7JOI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m7Jqp', 'Classical', 'Ariel_30_10', 2029, 'bishalrai', 1884, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nc6,Nf3,Nf6,Bg5,h6,Bxf6,exf6,e3,Bb4,Bd3,O-O,Qb3,Be6,O-O,Bxc3,bxc3,Qc7,Nd2,Rab8,Rfc1,a6,Rab1,Rfd8,c4,Na5,Qb6,Qxb6,Rxb6,dxc4,Be2,Rdc8,Ne4,Rc7,Nc5,Bd5', 'Nxa6,bxa6,Rxb8+', 'https://lichess.org/training/m7Jqp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m7lzv', 'Rapid', 'achesmaster', 1840, 'LeAngelos', 1975, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bg5,Bg7,Bxf6,Bxf6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,O-O,Nd5,Bg7,Re1,e6,Ne3,Qb6,Nb3,Bxb2', 'Nc4,Qc7,Nxb2', 'https://lichess.org/training/m7lzv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7ORg', 'Rapid', 'Anatol1962222', 1675, 'ggian', 1678, 'd4,d5,c4,dxc4,e3,b5,a4,c6,axb5,cxb5,Qf3,Bb7,Qxb7,Nd7,Qxb5,Nf6,Qxc4,e6,Nf3,Be7,Bd3,Rc8,Qa6', 'Rxc1+,Ke2,Rxh1', 'https://lichess.org/training/M7ORg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m7QnW', 'Blitz', 'Dartanyan3', 1616, 'crispiliano', 1655, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Nf6,Nc3,c5,d3,Be7,a3,O-O,Ne2,c6,Ng3,Kh8,Nf5,Ng8,Nxe7,Qxe7,Bg5,f6,Bd2,Bg4,h3,Bh5,g4,Bg6,Nh4,Bf7,Nf5,Qd8,Kh2,g6,Nh6,Qe7,Qf3,Be6,Qg3,Nxh6,Bxh6,Rf7,f4,exf4,Bxf4,Rd8,h4,f5,exf5,gxf5,Bg5,Qd7,Bxd8,Qxd8,gxf5,Bd5,Rae1,Rg7,Qf4,Qg8,Rg1', 'Rg2+,Kh3,Rxg1,Rxg1,Qxg1', 'https://lichess.org/training/m7QnW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m7Qy6', 'Rapid', 'Mizrob', 2050, 'Parmelan', 1847, 'd4,d6,c4,e5,dxe5,dxe5,Qxd8+,Kxd8,Nc3,Be6,e4,f6,a3,c6,Be3,Nd7,f4,exf4,Bxf4,Ne5,Rd1+,Kc7,Nf3,Bd6,c5', 'Nxf3+,gxf3,Bxf4', 'https://lichess.org/training/m7Qy6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7rdz', 'Rapid', 'jonjonbenben', 1615, 'ChadiZammali', 1741, 'e3,e5,b3,Nc6,Bb2,Nf6,Nf3,e4,Ne5,d5,Nxc6,bxc6,Be2,Bd6,c4,O-O,d4,exd3,Bxd3,Rb8,Bd4,a5,c5,Be7,Nc3,Re8,a3,Bg4,f3,Bh5,Rb1,Bg6,Kf2,Bf8,b4,axb4,axb4,Qc8,Bxg6,fxg6,Qb3,Nd7,Na4,Qa6,Rhc1,Ra8,Nb2,Qb5,Nd3,Reb8,e4,Kh8,exd5,cxd5,Qxd5,Qxd3', 'Bxg7+,Bxg7,Qxd3', 'https://lichess.org/training/M7rdz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7RRo', 'Rapid', 'arshiaeshaghi0012', 1751, 'Reza-222', 1694, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,d3,d6,Be3,Bg4,Bxc5,dxc5,Nbd2,Nd4,c3,Nxb3,Qxb3,O-O,Nxe5,Be2,Rfe1,Bxd3,Rad1,c4,Qb4,Qe8,Nxd3,cxd3,Nf3,Qd7,Ne5,Qe6,Nxd3,Qxa2,Ra1,Qe6,Nc5,Qc6,Nd3,Rfe8,f3,Rad8,Nc5,Ra8,Nb3,Red8,Na5,Qb6+,Kh1,c5,Qb3,Rd2', 'Nc4,Qd8,Nxd2', 'https://lichess.org/training/M7RRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m7SGP', 'Rapid', 'fatihfaith', 1867, 'Yar55Vlas', 1800, 'd4,d5,e3,Nf6,Bd3,Nc6,c3,Bg4,f3,Bh5,Nd2,e6,Qb3,Rb8,a3,Bd6,c4,dxc4,Bxc4,Nd5,Bxd5,exd5,Qxd5', 'Bg3+,hxg3,Qxd5', 'https://lichess.org/training/m7SGP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7twS', 'Blitz', 'bubeliang', 2307, 'torbjornh2b', 2143, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,e6,Nc3,Nxc3,bxc3,d6,Nf3,dxe5,Nxe5,Bd6,Nf3,Nd7,Bd3,Nf6,Bg5,O-O,h4,h6,Qd2,Be7,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/M7twS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7u0B', 'Rapid', 'Sky_Petr', 1642, 'papajim2017', 1747, 'e4,e5,d3,d5,exd5,c6,dxc6,Nxc6,Nc3,Bb4,Bd2,Nf6,Nf3,Bg4,Be2,O-O,O-O,Bxc3,Bxc3,Qc7,Re1,Rad8,Nxe5,Nxe5,Bxe5,Qxe5,Bxg4,Qxb2,Bf3,b6,Qd2,Qd4,Rab1,Rfe8,h3,Rxe1+,Qxe1,Re8,Qd2,a5,c3,Qd6,c4,Nd7,d4,Ne5,c5', 'Nxf3+,gxf3,Qg6+,Kh2,Qxb1', 'https://lichess.org/training/M7u0B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7uBC', 'Classical', 'jas37', 1712, 'Londonsystem2', 1641, 'g3,d5,Bg2,Nc6,Nf3,e5,O-O,e4,Ne1,f5,e3,Nf6,d3,Ne5,c3,c5,dxe4,fxe4,Nd2,Nd3,Nxd3,exd3,c4,dxc4,Qa4+,Bd7,Qxc4,Bf5,Bxb7,Bh3,Qb5+,Nd7,Re1,Rb8,Qc6,Rxb7,Qxb7,Bd6,Qe4+,Ne5,f4,O-O,fxe5,Re8,Qc4+,Kh8,exd6,Qa8,e4,Qb7,Qxd3,c4,Qxc4,Qb6+,Kh1,Qf2,Qe2', 'Bg2#', 'https://lichess.org/training/M7uBC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m7uFX', 'Rapid', 'CrazyKnyght1', 1863, 'Old-School-Ways', 1882, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Qg6,Bf3,Nc6,Nge2,e5,d4,Bd7,d5,Nb4,O-O,Nxc2', 'Be4,f5,Bxc2', 'https://lichess.org/training/m7uFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m7umh', 'Rapid', 'ferassaeedd', 1920, 'dismas', 1851, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,g3,fxg3,O-O,gxh2+,Kh1,Nf6,e5,Ng4,Nxh4,Qxh4,Bxf7+,Ke7,Qf3,Rf8,e6,dxe6', 'Qa3+,c5,Qxc5+,Kd7,Qxf8', 'https://lichess.org/training/m7umh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m7wB1', 'Blitz', 'asem2006', 1717, 'Adilet2011kz', 2010, 'e4,e5,Nf3,Nc6,g3,Bc5,Bg2,Nf6,Nc3,O-O,O-O,d6,d3,Bg4,Bg5,Nd4,Nd5,Nxf3+,Bxf3,Bh3,Re1,h6,Nxf6+,gxf6,Bxh6,Re8,Bh5,c6,g4,Qb6,Rf1,Bxf1,Qxf1,Bd4,Re1,Bxb2,g5,Bc3,Qg2,Bxe1', 'gxf6+,Kh7,Qg7#', 'https://lichess.org/training/m7wB1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7xAj', 'Rapid', 'burkay4444', 1620, 'elmapachee', 1623, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,Bg5,Be7,e3,O-O,cxd5,cxd5,Bd3,h6,Bh4,Nc6,Rc1,Bb4,a3,Ba5,O-O,Re8,Bc2,e5,dxe5,Nxe5,h3,Nxf3+,Qxf3,Be6,b4,Bb6,Rfd1,Rc8,Bxf6,Qxf6,Qxf6,gxf6,Nxd5,Bxd5,Rxd5,Red8,Rxd8+,Bxd8,Kf1,f5,Ke2,Bg5,Kd2,f4,Be4', 'fxe3+,fxe3,Bxe3+,Kxe3,Rxc1', 'https://lichess.org/training/M7xAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7XYV', 'Rapid', 'TIGRELENT', 1619, 'Rickiller', 1671, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,Nc3,Nf6,a3,O-O,b4,Bd4,Nxd4,Nxd4,Nd5,Nxd5,Bxd5,c6,Ba2,d5,d3,Re8,c3,Nb5,c4,dxc4,Bxc4,Be6,Bxb5,cxb5,Bb2,Bd7,Qh5,Qf6,Rae1,Re6,f4,Qg6,Qxg6,Rxg6,Bxe5,Bh3,Re2,Rd8,Rd1', 'Bg4,Red2,Bxd1', 'https://lichess.org/training/M7XYV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M7Y9Q', 'Rapid', 'roterm', 1720, 'Haifa04', 1638, 'f4,Nc6,Nf3,d6,e3,Bg4,Be2,e5,O-O,exf4,exf4,Qf6,Nc3,Bxf3,Bxf3,O-O-O,Bxc6,bxc6,b3,d5,Bb2,Nh6,Na4,d4,Qf3,Nf5,Rae1,Kb7,Qd3,Qh4,Qxf5,Rd5,Qd3,Bd6,Qf3,Rf5,Qg3,Qh6,Qh3,Qf6,g3,g5,fxg5,Rxf1+,Rxf1,Qxg5,Qg2,h5,Bxd4,Rg8,Be3,Qg6,Nc5+,Bxc5,Bxc5,h4,Bf2,Qxc2,g4,Qxd2,h3,Qf4,Bxh4,Qh6,Bf2,f5,Re1,fxg4,Be3,Qf6,Qf2,Qc3,Kh2', 'g3+,Qxg3,Rxg3', 'https://lichess.org/training/M7Y9Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m7z0Y', 'Rapid', 'Serhii81', 1874, 'Gorafejo', 1932, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nf3,Be7,O-O,Nf6,Nxc3,c6,Qe2,O-O,e5,dxe5,Nxe5,Bd6,Rd1,Qe7,f4,Bg4', 'Nxg4,Nxg4,Qxg4', 'https://lichess.org/training/m7z0Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m89tO', 'Rapid', 'MiraK-1958', 1661, 'Noob_player9', 1674, 'e4,e5,Bc4,Nc6,Nf3,Nd4,Nxd4,exd4,Qf3,Qf6,Qxf6,Nxf6,O-O,Nxe4', 'Re1,Be7,Rxe4', 'https://lichess.org/training/m89tO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m8cuJ', 'Rapid', 'Valeriy53', 1896, 'tigrao3', 1908, 'e4,c5,Nf3,d6,c3,Nf6,d3,e6,g3,Be7,Bg2,Nbd7,O-O,O-O,Be3,Qc7,Nbd2,Ne5,Nxe5,dxe5,Nf3,h6,Qd2,Ng4,Rad1,Nxe3,fxe3,b6,c4,Bb7,Qe2,Rad8,Ne1,f5,exf5,Bxg2,Kxg2,exf5,Qh5,Bg5,Nc2,Qc6+,Kg1,Qe6,h4,Be7,b3,e4,d4,cxd4,Nxd4,Rxd4,Rxd4,Bc5,Rd5,Bxe3+,Kg2,f4,Re5,f3+,Kh2,Qf6,Rxe4', 'Qb2+,Kh3,Qg2+', 'https://lichess.org/training/m8cuJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m8DbQ', 'Rapid', 'hazemasawdah', 1942, 'kike7275', 1875, 'e4,c5,Nf3,Nc6,c3,Nf6,Bd3,g6,Bc2,c4,b3,b5,Qe2,Ba6,a4,bxa4,bxc4,Bg7,O-O,d5,exd5,Nxd5,Bxa4,Qb6,Bxc6+,Qxc6,Rxa6,Qxa6,Qe4,Nf6', 'Qxa8+,Kd7,Ne5+', 'https://lichess.org/training/m8DbQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m8FZS', 'Blitz', 'RFSP', 1675, 'Narottolo', 1667, 'g4,g6,Bg2,Bg7,d3,d5,e3,e5,Nc3,Nf6,g5,d4,exd4,Nfd7,d5,f6,gxf6,Nxf6,Qf3,Bg4,Qg3,O-O,Bg5,Nbd7,f3,Bf5,O-O-O,Qe8,Re1,Nc5,Bxf6,Bxf6,Ne4,Bxe4,dxe4,Qa4,Kb1,b5,Qf2,Na6,Re3,b4,Qd2,Bg5,Ra3,Bxd2,Rxa4,Nc5,Ra5,Nb7,Rb5,Rab8,Ne2,Nd6,Rxb8,Rxb8,Rd1,Bf4,Nxf4,exf4,e5,Nc4,e6,Ne3,Rd2,Rd8,Bh3,Nxd5,Rd4,c6,c4,bxc3,bxc3', 'Nxc3+,Kc2,Rxd4,e7,Kf7', 'https://lichess.org/training/m8FZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M8hqw', 'Blitz', 'jermichael', 1740, 'ahojjaksemas', 1806, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nc3,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,Bf4,Be7,O-O-O,O-O-O,Qxa7,Qc6,e5,Ne4,Nd5,Rhe8,exd6,Bxd6,Bxd6,Rxd6,Nb4,Qb5,Rxd6,Nxd6,a3,Re2,Rd1,Qg5+,Kb1,Qxg2,Qa8+,Kd7,Qa4+,Ke7,Nd5+,Kf8,Nf4,Re4', 'Qa8+,Re8,Qxe8+,Kxe8,Nxg2', 'https://lichess.org/training/M8hqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M8lce', 'Blitz', 'jamie2763', 1652, 'stopwarplaychess', 1612, 'c4,e5,Nc3,Nf6,Nf3,e4,Ng5,h6,Ngxe4,Be7,d4,d6,e3,b6,Be2,Bb7,d5,Nbd7,O-O,O-O,Qc2,c6,Rd1,cxd5,Nxd5,Nxd5,cxd5,Nf6,Nxf6+,Bxf6,e4,Rc8,Qa4,Rc5,Qxa7,Ba8,Be3,Ra5,Qxb6,Qxb6,Bxb6,Ra4,f3,Rb4,Bc7,Rxb2,Bxd6,Rxe2,Bxf8,Bxa1,Rxa1,Kxf8,a4,f6,h4,g6,Kh2,Re3,Kg3,Re2,a5,Rc2,a6,Rc7,a7,g5,hxg5,hxg5,Kg4,Rc8,Kf5,Kf7,g3,Bb7,f4,gxf4,gxf4,Ra8,d6', 'Bc8+,d7,Bxd7#', 'https://lichess.org/training/M8lce');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M8Lrl', 'Rapid', 'Grahhh', 1672, 'sebaslp81', 1784, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Bg5,Bd6,Nc3,c6,Nge2,O-O,Qd2,a5,O-O-O,b5,h4,Nbd7,g4,Qc7,Bxf6,Nxf6,g5,Ng4,Rhg1,Nxf2,Rdf1,Nh3,Rh1,Bg4,Bf5,Bxf5,Rxf5,Qd7,Qd3,b4,Nd1,g6,Rf3,Nxg5,hxg5,Rae8,Rfh3,h5,gxh6,Kh7,Ne3,Qe6,Ng2', 'Qxe2,Qxe2,Rxe2', 'https://lichess.org/training/M8Lrl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M8O6i', 'Classical', 'Dersim111', 1970, 'VeronicaHolmes', 1938, 'e4,c5,Nf3,d6,b4,Nf6,Bd3,c4,Bxc4,Nxe4,O-O,Qc7,d3,Nf6,Nc3,b6,Re1,Bb7,Nb5,Qd7,Bb2,d5,Bb3,Qxb5,c4,dxc4', 'Ba4,Qxa4,Qxa4+', 'https://lichess.org/training/M8O6i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M8TJJ', 'Blitz', 'andersonbessa', 1593, 'arefahmadi110110', 1605, 'e4,e5,Bc4,Nf6,Nf3,Nc6,d3,d6,Bg5,Be6,Bxe6,fxe6,c3,h6,Bh4,g5,Bg3,Nh5,Qb3,Nxg3,hxg3,Qf6,Nbd2,b6,Qb5,Kd7,O-O-O,a6,Qb3,Bg7,Nc4,Rhb8,d4,exd4,Nxd4,Nxd4,Rxd4,Qxf2,Ne5+,Bxe5,Rd2,Qxg3,Rxh6,Bf4,Rh7+,Kc6', 'Qc4+,Kb7,Rxc7#', 'https://lichess.org/training/M8TJJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M8u03', 'Blitz', 'FM fmjoseherrera', 2466, 'IM SevanB', 2507, 'e4,g6,Ke2,Bg7,Ke1,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Nc6,Be3,Bg4,Be2,O-O-O,h3,Bxf3,Bxf3,Nxd4,Bxd4,e5,Bxb7+,Kb8,b4,Qa3,Nb5,Qxb4+,c3,Qa5,Rb1,exd4,Nxd4', 'Qxc3+,Kf1,Rxd4', 'https://lichess.org/training/M8u03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m8UYn', 'Rapid', 'nevereverwon', 1815, 'SRT_88', 1791, 'd4,d5,c4,Nf6,Nc3,g6,e3,Bg7,Nf3,c6,Bd3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Qc7,cxd5,cxd5,Nxd5,Nxd5,Qxd5,e6,Qc4,Qe7,Bd2,Nc6,Be4,Rac8,Qb5,Rfd8,Rac1,e5,Bxc6,bxc6,Rxc6,Rxc6,Qxc6,exd4,exd4,Bxd4,Bc3,Bxc3,Qxc3,Qd7,b4,Qa4,Qb2,Rb8,a3,a5,Rb1,axb4,axb4,Qb5,Qd4,Qf5,Rd1,Qb5,Qf6,Qxb4,Rd7,Qf8,g4,Re8,Kg2,Re6,Qf4,Qe8,Qc7,Re2', 'Rd8,Kg7,Rxe8', 'https://lichess.org/training/m8UYn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M8wQe', 'Classical', 'benjiiiiiii', 1732, 'Lime_Leaf', 1718, 'd4,c5,Nf3,Nc6,e4,g6,Nc3,Bg7,Be3,Nf6,dxc5,Ng4,Qd2,Nxe3,Qxe3,O-O,O-O-O,Ne5,Nd4,Bf6,h3,d6,f4,e6,fxe5', 'Bg5,Qxg5,Qxg5+', 'https://lichess.org/training/M8wQe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m8WsH', 'Rapid', 'DrSheldonCooper', 1881, 'gharibashna', 1897, 'e4,c6,f4,d5,e5,Bf5,Nf3,e6,d4,Nh6,c3,Nd7,Be2,Be4,O-O,Nf5,g4,Nh4,Qe1,Be7,Nbd2,Bxf3,Nxf3,Nxf3+,Bxf3,b5,Bd2,c5,b4,cxd4,cxd4,O-O,a3,Nb6,Be2,Nc4,Bxc4,bxc4,Bc3,a5,bxa5,Qd7,Qd1,Bd8,Qd2,Qa4,Rfb1,Bxa5,Bxa5,Qxa5,Qxa5,Rxa5,Rb4,Rfa8,a4,h6,Kf2,c3,f5,c2,Ke3,Rxa4,Raxa4,Rxa4,Rb8+,Kh7,Rc8,Rc4', 'Rxc4,dxc4,Kd2,c1=B+,Kxc1', 'https://lichess.org/training/m8WsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M8WVx', 'Rapid', 'himel007', 1724, 'ChessPlayer141', 1744, 'b4,e5,Bb2,Bxb4,Bxe5,Nf6,e3,O-O,Nf3,Nc6,Bb2,d5,Nc3,Bg4,h3,Bh5,Bb5,Ne5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,Ne4,O-O,Nxd2,Qxd5,Nxf1,Kxf1,c6,Qb3,a5,Rd1,Qf6,Nd5,Qd6', 'Nf6+,gxf6,Rxd6', 'https://lichess.org/training/M8WVx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m8wwu', 'Rapid', 'humanbeing1', 1991, 'romasliuz', 1709, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bg4,h3,Bh5,g4,Bg6,d3,Nf6,Be3,Be7,Nbd2,Qd7,c4,Nxg4,hxg4,Qxg4+,Kh1,Bh5,Rg1', 'Qh3+,Nh2,Bxd1', 'https://lichess.org/training/m8wwu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m8zGv', 'Classical', 'Tobias95', 1803, 'GauthierGP', 1680, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,e4,d6,Bd3,Nc6,a3,e5,d5,Ne7,Bg5,h6,Be3,Ng4,Bd2,f5,h3,Nf6,Qc1,Kh7,Be3,fxe4,Nxe4,Nf5,Bd2,c6,g4,Nxe4,Bxe4,Nh4,Nxh4,Qxh4,Be3,cxd5,cxd5,Bd7,Qc7,Bxg4,Qxd6,Bf5,Bxf5,Rxf5,O-O-O,Qe4,Qd7,Rf7,Qxf7,Rc8+,Kd2', 'Rc2+,Ke1,Qxh1#', 'https://lichess.org/training/m8zGv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m92L4', 'Blitz', 'BernardGM', 2194, 'zerosub', 2200, 'd4,Nf6,Nf3,e6,Bg5,d5,Nbd2,b6,e3,Bb7,Bd3,Nbd7,Qe2,c5,c3,Be7,O-O-O,Rc8,Kb1,c4,Bc2,b5,e4,dxe4,Nxe4,Nxe4,Bxe7,Nxc3+,bxc3,Qxe7,Ka1,Qa3,Qd2,b4,Rb1,bxc3,Qg5,Bxf3,Qxg7,Qf8,Qxf8+,Kxf8,gxf3,Rg8,Rb7,Nf6,Rxa7,Rg2,Be4,Rxf2,Rc1,Nxe4,fxe4,c2,d5,exd5,exd5,c3,a4,Rd2,Ka2,f5,Rb7,f4,Rb4,f3,Rf4+,Kg7,Rxf3,Rc4,Kb3,Rcd4,Rg1+,Kh6', 'Rh3+,Rh4,Rxh4#', 'https://lichess.org/training/m92L4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m94uo', 'Classical', 'kiasar', 1641, 'Savedyb', 1802, 'e4,e6,Nf3,Nf6,Nc3,Nc6,a3,Bc5,h3,O-O,Bc4,Re8,d3,h6,Be3,Bxe3,fxe3,d5,Bb5,Bd7,Bxc6,Bxc6,e5,Nh7,d4,Ng5,Qe2,Rf8,h4,Nxf3+,gxf3,Be8,Rg1,f5,Kd2,Qxh4,Rh1,Qe7,Rag1,Kh7,f4,Rg8,Nd1,Rc8,Nf2,c5,c3,b5,Nh3,cxd4,exd4,a5,Ng5+,Kh8,Rh4,b4,Rgh1,bxc3+,bxc3,Qxa3', 'Rxh6+,gxh6,Rxh6+,Kg7,Rh7+,Kf8,Nxe6#', 'https://lichess.org/training/m94uo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m96sJ', 'Rapid', 'fab1315', 1749, 'hosein338', 1609, 'e4,e6,Nf3,b6,c3,Bb7,Bd3,Be7,O-O,d6,Re1,Nd7,Bc2,Ngf6,d4,O-O,c4,e5,d5,a6,b3,Rb8,Nc3,c6,Bg5,Nxd5,Bxe7,Nxe7,Qxd6,Ng6,Qd1,f6,h3,Rc8,Qc1,Qe7,Ne2,c5,Ng3,Qf7,Nf5,Qe6,N5h4,Nxh4,Nxh4,Rb8,Nf5,Rfd8,Qe3,Nf8,Qg3,Qf7', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/m96sJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m9bjw', 'Rapid', 'lanalb', 1647, 'maikkel', 1678, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,O-O,e6,Nc3,Nf6,Bg5,Be7,Re1,O-O,Qd2,a6,Ba4,b5,Bb3,Nxe4,Nxe4,Nxd4', 'Bxe7,Qxe7,Qxd4', 'https://lichess.org/training/m9bjw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M9CgU', 'Classical', 'bebano', 1783, 'SkinnyFat', 1785, 'd4,Nf6,Nf3,d5,h3,c5,Bf4,Nc6,e3,cxd4,exd4,Bf5,c3,Qb6,b3,Ne4,Be2,e6,O-O,Be7,Ne5,Bd6,Nxc6,Bxf4,Ne5,Bxe5,dxe5,Qc7,Bg4,Qxe5,Bxf5,Qxf5,Qd4,O-O,f3,Nf6,Nd2,Rfc8,c4,e5,Qf2,d4,Rfe1,Re8,Re4,Nxe4,Nxe4,Rad8,b4,d3,c5,d2,Nxd2,Qc2,Ne4,Rd1+,Rxd1,Qxd1+,Kh2,f5,Nd6,Rd8,a3,g6,Nxb7,Rd2,Qg3,Qa4,Qxe5,Qc2,Qg3,Qa4,Qe5,Qc6,Nd6,Qxf3,Qe6+,Kg7,Qf7+,Kh6,Nxf5+,gxf5,Qf6+,Kh5,Qf7+,Kh6,Qf6+,Kh5,Qf7+,Kg5', 'Qg7+,Kh5,Qxh7+', 'https://lichess.org/training/M9CgU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M9fGy', 'Rapid', 'refalico', 1699, 'Matiel', 1703, 'e4,c5,d3,Nc6,a3,Nf6,h3,d6,Nf3,g6,Be2,Bg7,Bd2,O-O,Bc3,b5,O-O,Bb7,Nh2,a5,Ng4,b4,Bxf6,exf6,c3,Re8,axb4,axb4,Rxa8,Bxa8,Ne3,Qd7,Bf3,Ne5,Nc4,Nxc4,dxc4,Bxe4,Bxe4,Rxe4,Qd5,f5,Rd1,Be5,Nd2,Re2,Kf1,Rxd2,Rxd2,bxc3,bxc3,Kg7,g3,h5,h4,f4,Kg2,fxg3', 'Qxe5+,dxe5,Rxd7', 'https://lichess.org/training/M9fGy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M9g2c', 'Blitz', 'NM Artak_Manukyan', 2396, 'CM arvids_andrejevs', 2426, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nb5,Bc5,Qf3,Nf6,Bd3,Ne5,Qg3,Qxg3,hxg3,Nxd3+,cxd3,Bb6,Be3,Bxe3,Nxc7+,Kd8,Nxa8,Bd4,Nc3,d5,O-O-O,Bxf2,e5,Ng4,Nxd5,Ne3,Nac7,Nxd1,Rxd1,Bxg3,d4,Be6,Nxe6+,fxe6,Nc3,Ke7,Kd2,Rf8,Ne4,Bf4+,Kd3,h5,Rf1,Bh6,Rxf8,Kxf8,Nc5,Ke7,Nxb7,g5,Nd6,h4,Nc8+,Kd7,Nxa7,g4,Ke4,h3,gxh3,gxh3,Kf3,Bc1,b3,Bb2,Nb5,Kc6,a4,Kb6,b4,Kc6,Kg3,Kd5,Kxh3,Kc4,Kg4,Kxb4,d5,exd5,e6,Bf6,Kf5,Bh4,Nc7,Kc5,a5,d4,a6,Kb6,a7,Kxa7,Nb5+,Kb6,Nxd4,Kc7,Kg6,Kd6,Kf7,Bg5,Nf5+,Ke5,Ng3,Bd8,Nh5,Bg5,Ng7,Bd8,Ke8,Bf6,Kf7,Bxg7', 'e7,Kd6,e8=Q', 'https://lichess.org/training/M9g2c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m9jO9', 'Rapid', 'Juozas55', 1711, 'nclarksf', 1735, 'd4,d5,e3,Nf6,c4,c6,c5,b5,b4,a5,Bd2,axb4,Bxb4,Na6,Qb3,Ne4,Nd2,Nxb4,Qxb4,Ra4,Qb2,Qa5,Nf3,Bg4,Be2,Bxf3,Bxf3,Rb4,Qc2,Rc4,Qb2,Rb4,Qc2,Nxd2,Qxd2,e6,O-O,Ra4,Qxa5,Rxa5,Be2,Be7,a4,O-O,axb5,Rxa1,Rxa1,cxb5,Bxb5,Rb8,Bc6,Bf6,Ra8,Rxa8,Bxa8,Kf8,c6,Bd8,g4,Ke7,h4,Kd6,f4,Bxh4,g5,f6,gxf6,Bxf6,Kg2,h5,Kg3,g5,Kf3,g4+,Kg3,Kc7,Bb7,Kb8,Ba6,Bd8,Bb7,Ka7,Bc8,Kb8', 'Bxe6,Kc7,Bxd5', 'https://lichess.org/training/m9jO9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m9JuD', 'Blitz', 'bilaltrifi', 2198, 'GinesRaul', 2273, 'e4,Nf6,Nc3,d5,e5,Nfd7,Nf3,Nb6,a4,a5,d4,Bg4,Be2,e6,O-O,c5,Bg5,Be7,Bxe7,Qxe7,dxc5,Qxc5,Nb5,O-O,Nfd4,Bxe2,Qxe2,Nc6,Nb3,Qe7,Kh1,Nc4,f4,Nxb2,Nd2,Qc5,c3,Nc4,Nxc4,dxc4,Nd6,Ne7,Nxb7,Qc6,Nd6,Nd5,Qf3,f6,Qh3,f5,Rad1,Rab8,Rd4,Qxa4,Rxc4,Qa2,Rd4,Rb3,Rxd5,exd5,Nxf5,Rb1,Ne7+,Kh8,g3,Rfb8', 'Ng6+,Kg8,Qe6#', 'https://lichess.org/training/m9JuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M9N1m', 'Classical', 'freebo', 1936, 'OlegGRU', 1966, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,h6,Be3,c5,Qg4,g6,Bd3,h5,Qg3,cxd4,Bxd4,Nc6,Nf3,Rg8,Be3,a6,Bd2,Nb4,Be2,Nxc2+,Kd1,Nxa1,Bg5,Nc5,Qf4,Bd7,Nd4,Bxg5,hxg5,Na4,Nxa4,Bxa4+,b3,Nxb3,axb3,Bd7,Rh3,Qc7,Qf6,Rc8,Ke1,Qc1+,Bd1,Rc3', 'Ne2,Rxh3,Nxc1', 'https://lichess.org/training/M9N1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M9o8R', 'Rapid', 'orpagennettras', 2052, 'sukman0', 1953, 'e4,g6,d4,Bg7,Be3,b6,Bd3,Bb7,Ne2,Nf6,f3,O-O,O-O,d6,h3,c5,c3,cxd4,cxd4,Nbd7,Nbc3,a6,Qd2,Nh5,f4,e5,d5,exf4,Nxf4,Nxf4,Bxf4,Ne5,Be2,b5,a3,Rc8,Rac1,Qb6+,Kh1,b4,axb4,Qxb4,Rfe1,Nc4,Bxc4,Rxc4,e5,dxe5,Bxe5,Bxe5,Rxe5,Rd8,Rd1,Qd6,Qe2,Rcc8,Re7,Rd7,Re8+,Rxe8,Qxe8+,Kg7,Rd3', 'Re7,Qxe7,Qxe7', 'https://lichess.org/training/M9o8R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M9Sne', 'Blitz', 'Elardvillavicencio', 1616, 'f1bonacci', 1569, 'e4,d6,Bc4,Nf6,Nf3,g6,e5,dxe5,Nxe5,e6,d3,Bd6,Qe2,O-O,Bh6,Re8,Nc3,Nc6,Ng4,Nd4,Qd2,Nxg4,O-O-O,Nxh6,Qxh6,Qf6,Ne4,Qg7,Qxg7+,Kxg7,Nxd6,cxd6,c3,Ne2+,Kd2,d5,Kxe2,dxc4,dxc4,b6,Rd2,Bb7,f3,Red8,Rxd8,Rxd8,Rd1,Rc8,b3,h5,Rd7,Rb8,Ke3,Kf6,h3,Ke5,g4,f5', 'f4+,Kf6,g5#', 'https://lichess.org/training/M9Sne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m9voG', 'Rapid', 'BAD65', 1958, 'tatha_awesome', 1755, 'Nf3,d5,c4,d4,b4,g6,Bb2,Bg7,e3,c5,bxc5,Nc6,a3,e5,exd4,exd4,Bd3,Nge7,O-O,O-O,Re1,Bf5,Bxf5,Nxf5,d3,Re8,Nbd2,Qa5,Ne4,Re7,Nd6,Qxc5,Nxf5,Rxe1+,Qxe1,Qxf5,Qd2,Re8,Re1,Ne5,Nxd4,Qxd3', 'Qxd3,Nxd3,Rxe8+', 'https://lichess.org/training/m9voG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M9Voy', 'Rapid', 'VladimirOgnev', 1902, 'Mulenga116', 1859, 'd4,g6,Bf4,Bg7,e3,c5,c3,cxd4,exd4,Nf6,Bc4,d5,Bb3,Nc6,Nf3,Bg4,O-O,O-O,h3,Bxf3,Qxf3,Na5,Bc2,Nc4,b3,Nd6,Nd2,Rc8,Rac1,Nb5,Nb1,Nh5,Bd2,e5,g4,Nf4,Bxf4,exf4,Bd3,Nd6,Qxf4,f5,Rfe1,fxg4,Qxg4,Re8,Re6,Rxe6,Qxe6+,Kh8,Qxd5,Qe7,Qf3', 'Qg5+,Kh2,Qxc1', 'https://lichess.org/training/M9Voy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M9VTd', 'Rapid', 'kulsur71', 2238, 'Kral5', 2283, 'c4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,e3,e6,Nge2,Nge7,O-O,O-O,d4,cxd4,Nxd4,d5,cxd5,exd5,Nce2,Nxd4,Nxd4,Nc6,Nb3,Be6,Nc5,Qb6,Nxe6,fxe6,Rb1,Rad8,b3,d4,Qc2,d3,Qc4,d2,Ba3,Rfe8,Rfd1,Ne5,Qc2,Qa5,Bb2,Nc6,Bxg7,Kxg7,Bxc6,bxc6,Rb2,Rd5,Rxd2,Red8,Rxd5,Rxd5,Qxc6,Rd1+,Kg2,Qe1,Qc7+,Kg8,Rc2,Qf1+,Kf3,Qh1+,Kg4,Qe4+,Kh3,Qf5+,Kg2,Qd5+,f3,Rd2+,Rxd2,Qxd2+,Kh3,Qxe3,Qd8+,Kf7,Qc7+,Kg8,Qe7,Qxf3,Qxe6+,Kg7,Qe7+,Kh6,Qh4+,Kg7,Qd4+,Kg8,Qxa7,Qf1+,Kh4,Qf6+,Kg4', 'Qf5+,Kh4,Qh5#', 'https://lichess.org/training/M9VTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m9Wmz', 'Blitz', 'lukskordoba', 1709, 'AugustoLopezN', 2057, 'd4,Nf6,f4,g6,Nf3,d6,Nbd2,Bg7,e3,b6,c3,Bb7,Bd3,Nbd7,a4,a6,Ng5,O-O,Ndf3,h6,h4,hxg5,hxg5,e5,Nh4,Nh5,Nxg6,fxg6,Bxg6,Ng3,Rh2,exf4,Qg4,Be4', 'Qe6+,Rf7,Qxf7#', 'https://lichess.org/training/m9Wmz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('M9xJB', 'Blitz', 'LA_GRAN-DIAGONAL10', 1884, 'WFM Rachees', 2147, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Bc5,O-O,O-O,Nc3,d5,exd5,cxd5,Bg5,c6,Qf3,Be7,Rfe1,Be6,h3,h6,Bf4,Bd6,Re2,c5,Nb5,Bxf4,Qxf4,c4,Bf5,Bxf5,Qxf5,Rb8,Nc3,d4,Rd1,Qb6,Nd5,Nxd5,Qxd5,Qxb2,Qxc4,Rfd8,Red2,Rbc8,Qb3,Qxb3,cxb3,Kf8,Rxd4,Re8,Rd7,a6,R1d2,Rc1+,Kh2,Ree1,Kg3,Rc3+,R2d3,Rc2,Rd2,Re2,Rxc2,Rxc2,a4,Rc3+,f3,Rxb3,Rd8+,Ke7,Ra8,Rb6,a5,Rd6,Ra7+,Ke6,Kf4,g6,Ke4,f5+,Ke3,Kd5,Rh7,h5,Rb7,Kc5,g4,hxg4,hxg4,fxg4,fxg4,Rf6,Rb8,Kc4,Ke4,Re6+,Kf4,Rc6,Rb6,Kc5', 'Rxc6+,Kxc6,Kg5,Kb5,Kxg6', 'https://lichess.org/training/M9xJB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('m9yRt', 'Classical', 'gerarb', 1734, 'Danielftorres98', 1678, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Bg5,Be7,Qf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,Nc3,d4,Rad1,Rab8,b3,Qc7,Ne4,Qc6', 'Nxf6+,Bxf6,Qxc6', 'https://lichess.org/training/m9yRt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ma0iS', 'Classical', 'PKordokiv', 1968, 'Rad_2711_Henadzi', 1933, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,g6,Nf3,Bg7,Be2,O-O,O-O,a6,h3,b5,a3,Bb7,d5,Nbd7,Be3,Rc8,Rc1,Nc5,Bd3,Nfd7,b4,Nxd3,Qxd3,Ne5,Nxe5,Bxe5,f4,Bg7,Bd4,Rc7,Bxg7,Kxg7,Qd4+,Kg8,f5,Rc4,Qe3,Kg7,Ne2,Rxc1,Rxc1,Qd7,Qd4+,Kg8,f6,e5,Qe3,Kh8,Qb6,Rc8,Rxc8+,Bxc8,Nc1,h5,Nb3,Kh7,Na5,g5,Nc6,Kg6,Ne7+,Kh7,Nxc8,Qxc8,Qxd6,Qc1+,Kh2,Qf4+,Kg1,Qxe4,Qf8,Qg6', 'd6,Qxf6,d7', 'https://lichess.org/training/ma0iS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ma3mP', 'Rapid', 'Quazarmodo', 1932, 'himan-return', 1979, 'Nf3,e6,e4,d5,exd5,exd5,d4,Nf6,c4,c6,Nc3,Be6,cxd5,cxd5,Bg5,Bb4,Bb5+,Nbd7,Ne5,O-O,Qa4,Be7,O-O,a6,Bxd7,Nxd7,Bxe7,Qxe7,Nxd7,Bxd7,Qb3,Be6,Rfe1,Rfe8,Re5,Qh4,Qxb7,Qxd4,Rae1,Rab8,Qc6,Rec8,Qxa6,Rxb2', 'Qxc8+,Bxc8,Re8#', 'https://lichess.org/training/ma3mP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MA4yI', 'Rapid', 'carlosck', 1662, 'anjumskhan_practice', 1677, 'e4,e5,d3,Nc6,Nc3,Bc5,b3,Qf6,Nf3,Nd4,Bb2,d6,Qd2,Nxf3+,gxf3,Qxf3,Rg1,Nf6,Rg3,Qh5,Qe2,Qxh2,O-O-O,Qxf2,Qxf2,Bxf2,Rxg7,Rg8,Rxg8+,Nxg8,Nd5,Bg4,Rd2,Bh4,Kb1,O-O-O,Rh2,Bg5,Rxh7,Be6,Rg7,Bh6', 'Rxg8,Rxg8,Ne7+,Kd7,Nxg8', 'https://lichess.org/training/MA4yI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ma5kp', 'Rapid', 'essbar', 1836, 'geppoz', 1952, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,Be7,e3,Ne4,Bxe7,Nxc3,Bxd8,Nxd1,Rxd1,Kxd8,Ne5,Ke7,cxd5,exd5,Bd3,Bd7,Ke2,Be6,b4,f6,Nf3,Nd7,h3,Rhe8,Nh4,g6,f4,f5,Nf3,Bf7,g4,fxg4,hxg4,Bg8,f5,Nf6,g5,Ne4,f6+,Kf8,Bxe4,Rxe4,Ne5,Rxe5,dxe5,Re8,Rd4,Rxe5,Rg1,Be6,a3,Kf7,Rh4,Kg8,Rgh1,Rxg5,Rxh7,Bf5,Rh8+,Kf7,R1h7+,Ke6,Rxb7,Kxf6,Rxa7,Rg2+,Kf3', 'Be4+,Kf4,g5#', 'https://lichess.org/training/ma5kp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mA5na', 'Blitz', 'NurDerHSV1887', 1609, 'Eggis04', 1601, 'd4,e6,e4,Nf6,e5,Nd5,Bc4,Bb4+,c3,Be7,Nf3,c5,Bxd5,exd5,dxc5,Bxc5,Qxd5,d6,Bg5,Qb6,O-O,O-O,b3,Be6,Qd3,Nd7,exd6,Qxd6,Qxd6,Bxd6,Rd1,Bc5,Nbd2,f6,Bf4,g5,Bg3,h5,Ne4,h4,Bd6,Bxd6,Nxd6,g4,Nxh4,Rad8,Nxb7,Rb8,Nd6,f5,Re1,Nc5,Rad1,Rbd8,b4,Ne4,Nxe4,fxe4,Rxd8,Rxd8,g3,Bd5,Kg2,Rc8,Rd1,Ba8,Rd4,Rxc3,Rd8+,Kg7,Rxa8,Rc2,a4,e3,Rxa7+,Kf6,Ra6+,Ke5,Ra5+,Ke4,Kf1,Rxf2+,Ke1,Kd3,Rf5,Re2+,Kf1,Rd2,Rd5+,Kc2,Re5,Kd3,Ng2,e2+,Ke1', 'Rd1+,Kf2,Rf1#', 'https://lichess.org/training/mA5na');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MA69y', 'Rapid', 'robson_ricardov', 1797, 'kiko416', 1772, 'e4,d6,d4,Nd7,b3,e6,Bb2,c6,Nd2,Ngf6,Bd3,Be7,Ngf3,O-O,Qe2,e5,h3,b5,O-O-O,a5,dxe5,Nxe5,Nxe5,dxe5,Bxe5,a4,f4,axb3,Nxb3,Rxa2,Bxf6,Ba3+,Kb1,Qxf6,e5,Rb2+,Ka1,Qxf4,Qe4,Qxe4,Bxe4,Be6,Bxc6,b4,Be4,Rc8,Rd2,f5,exf6,gxf6,Rhd1,Bxb3,cxb3,Rxb3', 'Bd5+,Kg7,Bxb3', 'https://lichess.org/training/MA69y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ma8cH', 'Rapid', 'Rayyhan', 1656, 'Riddlech', 1655, 'e4,e5,d4,exd4,Nf3,c5,c3,Nc6,cxd4,d6,d5,Ne5,Nxe5,dxe5,Nc3,a6,Qa4+,b5,Nxb5', 'Bd7,Nc7+,Qxc7', 'https://lichess.org/training/Ma8cH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mA8Uf', 'Rapid', 'suil3n', 1686, 'vaibhavrr1', 1673, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Bd3,Bd6,Be3,Ne7,Nc3,Nbc6,h3,Bh5,g4,Bg6,Qd2,Qd7,O-O-O,O-O-O,Kb1,Kb8,Nh4,Bxd3,Qxd3,Nb4,Qf1,Rhf8,f4,g6,Ng2,Rde8,Bd2,Nbc6,Ne3,Nxd4,Nexd5,Nxd5,Nxd5,Qc6,Nf6,Qxc2+,Ka1,Re2,Bc3,Ba3,Rxd4', 'Bxb2+,Bxb2,Qxb2#', 'https://lichess.org/training/mA8Uf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ma8wf', 'Rapid', 'axb1', 1706, 'Teun24', 1708, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,Bg4,O-O,O-O-O,a3,f5,Nc3,Qe6,Qe2,Nd4,Qxe5', 'Nxf3+,gxf3,Qxe5', 'https://lichess.org/training/ma8wf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MaBJ8', 'Blitz', 'trinidadramil', 2111, 'tommi_vi', 2102, 'd3,d5,g3,e5,Bg2,Nf6,Nd2,Bf5,e4,dxe4,dxe4,Bg4,f3,Be6,c3,Bc5,Ne2,O-O,Qc2,Nc6,h4,h5,b3,Qe7,Bb2,Rfd8,O-O-O,Ba3,Kb1,Bxb2,Kxb2,a5,Nb1,Nd7,a3,Rdb8,f4,a4,b4,Bb3,Qd2,Bxd1,Rxd1,Nb6,Ka1,Rd8,Qc2,Rxd1,Qxd1,Rd8,Qc1,Nc4,Ng1,exf4,Qxf4,N6e5,Nh3,c5,Ng5,cxb4,cxb4,Rd1,Bf3,Rf1,Qf5,Nxa3', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/MaBJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mackE', 'Rapid', 'deepam18', 1652, 'lingtalfi', 1666, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be3,a6,Bd3,b5,a3,Nc6,Qd2,Na5,b3,Bb7,Bh6,O-O,Bxg7,Kxg7,h4,c5,e5,dxe5,dxe5,Ng4,h5,c4,Qg5,cxd3,Qxg4,dxc2,hxg6,fxg6,Ng5,Bc8,Rxh7+,Kg8,Rh8+,Kxh8', 'Qh4+,Kg7,Qh7#', 'https://lichess.org/training/mackE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MaECf', 'Rapid', 'ibrahim_saad', 1609, 'vaerrox', 1625, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Bf5,e3,e6,c5,h6,Bh4,Be7,Bd3,Ne4,Bxe7,Qxe7,Qc2,Qg5,g3,Nxc3,bxc3,Bxd3,Qxd3,Nd7,Nf3,Qg4,Nh4,g5,Ng2,Qf3,O-O,O-O-O,c4,h5,Rab1,h4,Qb3,b6,cxb6,axb6,c5,b5,Qa3,hxg3,fxg3,Qh5,Qa8+,Kc7,Qa7+,Kc8,a4,Qxh2+,Kf2,Qh3,axb5,cxb5,Rxb5,Qf5+,Kg1', 'Rh1+,Kxh1,Qxf1+', 'https://lichess.org/training/MaECf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('maeHn', 'Rapid', 'AilinZarkym', 1932, 'KuralbayA', 1717, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,O-O-O,d3,e6,Be3,Bc5,Bxc5,Qxc5,a3,Bxf3,Bxf3,Nd4,Rc1,h5,b4,Qd6,Re1,g5,Be2,Rdg8,c3,Nxe2+,Qxe2,g4,a4,h4,b5,g3,fxg3,hxg3,h3,Qb6+,d4,Qd6,Qf3,f5,Re5,Rh4,Rce1,Rh6,a5,Rhg6,a6,b6,Qb7+,Kd7,d5,Qc5+,Kh1,Qf2,dxe6+,Ke8,Qc6+,Ke7,Qxc7+,Kf6,Qf7+,Kg5,Qe7+,Rf6,h4+,Kg6,h5+,Kg5,Qh7,Rff8,e7,Re8,Re6,Rh8,Qg6+,Kf4,R6e5,Rhf8,Qh6+,Kg4,exf8=Q', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/maeHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('maEpH', 'Rapid', 'AC_Boi22', 1750, 'HClay', 1784, 'f4,Nf6,Nf3,g6,e3,Bg7,Be2,O-O,Nc3,d5,b3,Bf5,Bb2,c6,Rb1,Nbd7,Ne5,Nxe5,fxe5,Ne4,Nxe4,Bxe4,O-O,Qc7,d3,Bf5,Rxf5,gxf5,Bh5,Bxe5,Qf3,Bxb2,Rxb2,Qe5,d4,Qf6,c3,Qg5,Rf2,e6,g4,Rac8,Rg2,Kh8,Qg3,Rc7,Qxc7,Qxe3+,Kh1,Qe1+,Rg1,Qe4+,Rg2,fxg4,Bxg4,Rg8,h3,h5,Qe5+', 'Qxe5,dxe5,hxg4', 'https://lichess.org/training/maEpH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('maGHQ', 'Rapid', 'LightLightLight', 2082, 'DEDLlNE', 2000, 'c4,g6,d4,Bg7,e4,d6,Nf3,Nf6,Nc3,O-O,h3,Nbd7,Be2,c5,e5,dxe5,dxe5,Ne8,Bf4,e6,O-O,Qc7,Nb5,Qb8,Re1,Bxe5,Nxe5,Nxe5,Bf1,f6,Bg3,a6,Nc3,b6,Bf4,Ng7,Ne4,Bb7,Bg3,Nf5', 'Nxf6+,Rxf6,Bxe5', 'https://lichess.org/training/maGHQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MAgRT', 'Classical', 'ivansipos', 1736, 'hakhamanesh57', 1783, 'd4,e6,c4,b6,Nc3,Bb7,d5,exd5,cxd5,Nf6,e4,Bb4,Bd2,Qe7,Nb5,Bxd2+,Qxd2,Qxe4+,Qe3,Qxe3+,fxe3,Nxd5,e4,Bc6', 'exd5,Bxb5,Bxb5', 'https://lichess.org/training/MAgRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mahx5', 'Blitz', 'Lavaas', 2430, 'Dvoretski_son', 2386, 'c4,e6,Nc3,d5,d4,Nf6,cxd5,exd5,Bg5,c6,Qc2,Bd6,e3,O-O,Bd3,h6,Bh4,Re8,Nge2,Be6,O-O,Bxh2+,Kxh2,Ng4+,Kg3,g5,Bh7+,Kg7,Bf5,gxh4+,Kxg4', 'Qg5+,Kh3,Bxf5+,Qxf5,Qxf5+', 'https://lichess.org/training/Mahx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MaHxn', 'Rapid', 'Eico8', 1828, 'Radikal07', 1738, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nc3,Be7,O-O,O-O,f4,Nc6,Nxc6,bxc6,e5,Nd5,Bxd5,cxd5,Qg4,Kh8,Rf3,Bh4,Rh3,Be7,Qh5,h6,b3,Qc7,Bb2,d4,exd6,Bxd6,Nb5,Qb6', 'Bxd4,Qxd4+,Nxd4', 'https://lichess.org/training/MaHxn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MAiCP', 'Blitz', 'yungbidness', 2108, 'Cheitaj', 2156, 'e4,d6,e5,dxe5,Nc3,Nc6,Bb5,Bd7,Nf3,f6,O-O,e6,Bc4,Bd6,d4,exd4,Nb5,Nge7,Nfxd4,Nxd4,Nxd4,O-O,Nxe6,Bxe6,Bxe6+,Kh8,c4,Nc6,Bd5,Na5,b3,Be5,Rb1,Rb8,Bd2,b6,f4,Bd6,Bc3,Nb7,Qg4,Nc5,b4,Na4,Ba1,a5,Rb3,Bxb4,Rh3,h6,Qg6,Qe8', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/MAiCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('maIja', 'Classical', 'I_made_you_blunder', 1946, 'antracis', 1965, 'd4,Nf6,Nf3,g6,e3,Bg7,b3,O-O,Bb2,c5,c3,cxd4,cxd4,d6,Nc3,Qa5,Bd3,Bg4,O-O,Nc6,Qd2,Bxf3,gxf3,Rac8,Rfd1,Qh5,Qe2,Nb4,f4,Qh3,Qf1,Qh4,Be2,h5,Qg2,Nbd5,Rac1,a6', 'Nxd5,Nxd5,Qxd5', 'https://lichess.org/training/maIja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('maIXH', 'Rapid', 'kyalo', 1656, 'Pollastrinix', 1700, 'e4,Nc6,d4,d5,Nc3,Nf6,e5,Nd7,Nf3,e6,Ng5,Qe7,Be3,a6,Bd3,h6,Nf3,Nb4,a3,Nxd3+,Qxd3,Nb6,b3,Bd7,a4,O-O-O,a5,Na8,O-O,h5,Rfb1,c6,Bg5,f6,exf6,gxf6,Bh4,Bh6,Ne5,Bg5,Bxg5,fxg5,Ng6,Qf6,Nxh8,Rxh8,Na4,Rf8,Rf1,g4,Nc5,h4,Nxd7,Kxd7,Qh7+,Rf7,Qh5,h3,g3', 'Qf3,Qxf7+,Qxf7', 'https://lichess.org/training/maIXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mAk7J', 'Blitz', 'MauroMartins', 1888, 'uffe-fastfood', 1871, 'e4,e5,Nf3,Nc6,d4,exd4,c3,Bc5,cxd4,Bb4+,Nc3,Nf6,e5,Ne4,Bd3,Nxc3,bxc3,Bxc3+,Ke2,Bxa1,Bg5,f6,exf6,gxf6,Be3,Bc3,Re1,Kf7,Bc4+,d5,Bd3,Bg4,Kf1,Bxf3,Qxf3,Bxe1,Qh5+,Ke7,Kxe1,Qe8,Qxd5,Rd8,Qc5+,Kf7,Bc4+,Kg7,Kf1,Qe4,Qh5,Qg6', 'Bh6+,Qxh6,Qf7#', 'https://lichess.org/training/mAk7J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MakGj', 'Blitz', 'skaret', 1740, 'DeRenat', 1882, 'e4,c5,Nf3,e6,d4,Be7,Bc4,h6,d5,d6,e5,dxe5,Nxe5,Nf6,dxe6,Qxd1+,Kxd1,fxe6,Ng6,Rg8,Re1,Kf7,Nxe7,Kxe7,Nc3,a6,a4,Nc6,Bf4,Nd4,Be3,b6,f4,Rd8,Kc1,Nf5,Bf2,Rd6,g4,Nd4,Ne4,Nxe4,Rxe4,Bb7,Re1,Rad8,Ra3,b5,axb5,axb5,Ba2', 'Ne2+,Kb1,Rd1+,Rxd1,Rxd1#', 'https://lichess.org/training/MakGj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mAkQE', 'Rapid', 'liz-b-21', 1717, 'khenthoiz25', 1722, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Nxc6,bxc6,Bg5,e6,Qf3,Be7,Nc3,h6,Bh4,Qb6,Na4,Qb4+,Nc3,Qxb2,Kd2,d5,Rab1,Qa3,Rb3,Qa5,Rhb1,d4,e5,Nd5,Bxe7,Nxe7,Be4,dxc3+,Rxc3,Bd7,Kc1,Rc8,Ra3,Qe1+,Qd1,Qxf2,Rb7,Qf4+,Kb1,Qxe4', 'Qxd7+,Kf8,Qxe7+,Kg8,Qxf7+,Kh7,Qxg7#', 'https://lichess.org/training/mAkQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mamwM', 'Rapid', 'ObaOba77794', 1928, 'gambitguyx', 1792, 'd4,Nf6,Nf3,d5,e3,Bf5,Bd3,Bg6,O-O,e6,b3,Bd6,Bb2,Nbd7,Nbd2,c6,Ne5,Qe7,Ndf3,O-O-O,Bxg6,hxg6,c4,Ne4,c5,Bxe5,Nxe5,Nxe5,dxe5,Nxc5,Rc1,Ne4,Qd4,Kb8,Qa4,Qh4,h3,Qg5,f4,Qh4,Qb4,c5,Qa5,b6,Qa4,Rh5,b4,Rc8,bxc5,Nxc5,Qb4,Kb7,Qb5,Qe7,a4,Qd7', 'Rxc5,Qxb5,Rxb5', 'https://lichess.org/training/mamwM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MaNTi', 'Rapid', 'harkurkof', 1637, 'barsikspit', 1637, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,b5,Bb3,Ng6,Bd5,Bb7,Nc3,Bb4,b3,O-O,Bb2,Nd4,Bxb7,Rb8,Bxa6,Nxf3+,Qxf3,c6,a3,Bxc3,Bxc3,Qb6,Bxb5,Qxb5,a4,Qc5,Rad1,d5,exd5,Qxd5,Qxd5,cxd5,d4,e4,Bd2,Rfc8,Rc1,f5,Bg5,h6,Be3,Ne7,Bf4,Rb7,f3,Nc6,Be3,Nb4,fxe4,Nxc2,exf5,Rbc7,f6,Nxe3,f7+,Kf8,Rxc7,Rxc7,Rf3,Ng4,a5,Rxf7', 'Rxf7+,Kxf7,a6,Nf6,a7', 'https://lichess.org/training/MaNTi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mapUY', 'Rapid', 'petiKey', 1804, 'bacchus_on_crack', 1829, 'd4,Nf6,c3,d5,b4,e6,Nd2,Nbd7,Nb3,b6,f3,Be7,Nh3,h6,Nf2,O-O,Be3,Ba6,Qc2,Bc4,g3,Rc8,Bg2,c5,a3,a5,bxa5,Bxb3,Qxb3,bxa5,O-O,Rb8,Qa2,cxd4,cxd4,Nb6,Nd3,Nc4,Bf2,Bxa3,Rab1,Rxb1,Rxb1,Qd6,e4,Rb8', 'e5,Rxb1+,Qxb1,Qe7,exf6', 'https://lichess.org/training/mapUY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MaSj0', 'Rapid', 'alfredjarry', 1884, 'papase', 2022, 'a3,d5,b4,e5,e3,f5,c4,c6,Bb2,Bd6,c5,Bc7,d3,Nf6,Nc3,O-O,Nf3,b5,Be2,a5,O-O,a4,Qc2,Ne4,Nxe4,fxe4,Nxe5,exd3,Bxd3,Bxe5,Bxe5,h6,Bh7+,Kh8,Bxg7+,Kxg7,Qg6+,Kh8,Qxh6,Qf6', 'Bg6+,Kg8,Qh7#', 'https://lichess.org/training/MaSj0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('masMw', 'Blitz', 'Anna_Bratkova', 1724, 'RK2008', 1618, 'd4,d5,Bf4,Bf5,e3,Nf6,Nf3,e6,Ne5,Nbd7,g4,Nxe5,gxf5,exf5,Bxe5,Bd6,Bxd6,Qxd6,Nc3,c6,Qd3,Ne4,Nxe4,fxe4,Qb3,Qc7,Be2,O-O-O,Bg4+,Kb8,O-O-O,Qe7,Rhg1,Qh4,h3,h5,Be2,Qxf2,Ba6,b6,Rdf1,Qh4,Rxf7,Rhf8,Rb7+,Ka8,Rbxg7,Rb8,R7g6,Rf2,Rxc6,Rbf8,Qxd5', 'Rf1+,Rxf1,Rxf1+,Kd2,Qe1#', 'https://lichess.org/training/masMw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('masxK', 'Rapid', 'AlexBogdanov_96', 2000, 'consun', 1845, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Nf3,e5,d5,a5,Bg5,h6,Bxf6,Bxf6,Qd2,Bg7,g4,Na6,O-O-O,Bd7,Be2,Nc5,g5,h5,Qe3,Kh7,Nb5,a4,h4,f5,gxf6,Bxf6,Rdg1,Bg4,Ng5+,Bxg5,hxg5,Bxe2,Qxe2,c6,dxc6,bxc6,Rxh5+,Kg7,Rh6,Rxf2,Qe3,Qf8,Nxd6,Rf1+,Rxf1,Qxf1+,Kc2,Ne6,Ne8+,Rxe8', 'Qa7+,Qf7,Rh7+,Kxh7,Qxf7+', 'https://lichess.org/training/masxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mat6k', 'Rapid', 'joseantonio00', 1662, 'Dr_Risiko', 1651, 'd4,d5,Nf3,Nf6,Bg5,e6,e3,h6,Bh4,g5,Bg3,g4,Ne5,Bd6,h3,h5,hxg4,Nxg4,Nxg4,Bxg3,fxg3,Qg5,Ne5,Qxe3+,Qe2,Qxd4,Nd3,Nc6,Nc3,b6,O-O-O,Ba6,Nb4', 'Bxe2,Rxd4,Nxd4', 'https://lichess.org/training/mat6k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mAtip', 'Rapid', 'Gafrinda', 1948, 'homerbola92', 1943, 'e4,b6,d3,Bb7,Nf3,d5,exd5,Bxd5,Be2,Nf6,O-O,e6,h3,c5,Nc3,Bb7,Bg5,Nbd7,Re1,Be7,d4,O-O,dxc5,Bxc5,Bb5,Qc7,Bxd7,Nxd7,Nb5,Qc6,a4,a6,Nbd4,Bxd4,Qxd4,f6,Bd2,e5,Qg4,Kh8,Nh4,Qxc2,Qxd7,Rad8,Qxb7,Rxd2,Qxb6,Rfd8,Nf3,R2d6,Qb4,Qf5,Qb3,e4,Nh2,Rd2,Rad1', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/mAtip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mATVw', 'Blitz', 'Chessmaestros', 1762, 'nab81', 1607, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,d3,d6,e4,Nc6,Nf3,Bg4,O-O,Nd4,h3,Bxf3,Bxf3,e5,Bg2,c6,Ne2,Nxe2+,Qxe2,Nd7,Be3,c5,Qd2,Qb6,b3,f5,f4,exf4,Rxf4,Bxa1,exf5,Rxf5,Rxf5,gxf5,Bd5+,Kh8,Bh6,Nf6,Qc1,Nxd5', 'Qxa1+,Nc3,Qxc3+,Kg8,Qg7#', 'https://lichess.org/training/mATVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MAU8D', 'Rapid', 'Jemab333', 1666, 'MarcoLeTough13', 1619, 'e4,d5,Nc3,e5,Nxd5,Nf6,Nxf6+,Qxf6,Nf3,Bg4,h3,Bxf3,Bb5+,c6,Be2,Bxg2,Rg1,Bxh3,d3,Bc5,Be3,Bxe3,fxe3,Qh4+,Kd2,O-O,Rh1,f5,exf5,Rxf5,Qg1,Rg5,Qh2,Rg3,Rag1,Rxg1,Rxg1,g5,Qxe5,Nd7', 'Rxg5+,Qxg5,Qxg5+', 'https://lichess.org/training/MAU8D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MaVf3', 'Rapid', 'tonytwins', 1810, 'cznezgi', 1774, 'd4,d5,Nf3,e6,e3,f5,Be2,Bd6,O-O,Nf6,b3,O-O,Bb2,c6,Nbd2,Nbd7,c4,Ne4,cxd5,exd5,Ne5,Qe7,f4,Rf6,Nxe4,fxe4,Qe1,Rh6,Qf2,Bc7,Bg4', 'Nxe5,fxe5,Bxg4', 'https://lichess.org/training/MaVf3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MAVk7', 'Rapid', 'PSIKOPAT', 2190, 'krosavcheG1', 2020, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,fxe4,dxe4,Nf6,O-O,d6,Nc3,Bd7,a3,a6,Bc4,Bg4,h3,Bh5,g4,Bg6,Ng5,Qd7,f4,exf4,Rxf4,O-O-O', 'Be6,Qxe6,Nxe6', 'https://lichess.org/training/MAVk7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mavuI', 'Blitz', 'Joselito_chessMaster', 1998, 'Bamri', 2040, 'd4,Nf6,d5,c5,Bg5,e6,Bxf6,Qxf6,dxe6,dxe6,Nc3,e5,Nb5,Qe7,Nf3,a6,Nc3,Nc6,e3,Bg4,Be2,Rd8,O-O,Rxd1,Raxd1,Qf6,Nd5,Qg6,Nc7+,Ke7,Nd5+,Ke6,Nc7+,Kf6,Nd5+,Ke6,Nc7+,Ke7,h3,Be6,c3,f6,b4,cxb4,cxb4,Nxb4,Nxe6,Kxe6,Bc4+,Ke7,a3,Nc6,Bd5,Ke8,Rb1,Nd8,Bxb7,Nxb7,Rxb7,Be7,Rb8+,Bd8,Rd1,Ke7,Nh4,Qc2,Rb7+,Ke8,Rdd7,e4,Rxg7,Rf8,Nf5,Qd1+,Kh2,h5,Rh7,Rg8,a4,Qf1', 'Nd6+,Kf8,Rbf7#', 'https://lichess.org/training/mavuI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MaVzZ', 'Blitz', 'RONALDBERDERA', 2306, 'IM Mashi2maro', 2442, 'd4,b5,e4,Bb7,Bd3,Nf6,Qe2,e6,Bg5,h6,Bxf6,Qxf6,Nf3,a6,a4,b4,c3,c5,Nbd2,g5,e5,Qd8,Be4,Nc6,h3,bxc3,bxc3,Qa5,Rb1,Ra7,Qc4,Be7,O-O,O-O,Nb3,Qc7,Nxc5,Na5,Qb4', 'Bxe4,Nxe4,Bxb4', 'https://lichess.org/training/MaVzZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MaXpF', 'Rapid', 'TrulsBretz', 1713, 'JustoRamon', 1721, 'e4,e5,Bc4,Nf6,Nf3,Bc5,O-O,d6,Nc3,Ng4,d4,exd4,Nxd4,Qh4,h3,Nf6,Be3,Bxh3,g3,Qh5,Be2,Qe5,Nf3,Qe7,Re1,Nc6,Bxc5,dxc5,Bb5,O-O,Nd5,Nxd5', 'exd5,Qf6,dxc6', 'https://lichess.org/training/MaXpF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MAyCl', 'Rapid', 'PadrePio', 1904, 'carletto1111', 1962, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,h3,d6,Nc3,Be6,Bxe6,fxe6,Na4,Bb6,Nxb6,axb6,c3,O-O,Bg5,Qe7,O-O,h6,Bxf6,Qxf6,Nh2,Qg5,Qg4,Qxg4,Nxg4,Rf4,f3,b5,Ne3,b4,c4,Nd4,Rf2,Rff8,Nc2,c5,Nxd4,exd4,a3,Rfb8,Rff1,bxa3,Rxa3,Rxa3,bxa3,Ra8,Ra1,Kf7,a4,e5,Rb1,Ra7,a5,Ke7,Kf2,Kd7,Rb5,Kc7,Kg3,Ra6,Kg4,b6,axb6+,Rxb6,Rxb6,Kxb6,Kf5,Ka5,Ke6,Kb4,Kxd6,Kc3,Kxe5,Kxd3,Kf5,Kc3,e5,d3,e6,d2,e7,d1=Q,e8=Q,Qd3+,Qe4,Qxe4+,fxe4,Kxc4,e5', 'Kd5,e6,Kd6', 'https://lichess.org/training/MAyCl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Maz0x', 'Rapid', 'Lobito1969', 2016, 'josephaco', 2025, 'd4,Nf6,Nd2,d5,e3,e6,c4,Bb4,a3,Be7,b4,b6,Ngf3,Ba6,Bb2,O-O,b5,Bb7,a4,a6,Bd3,dxc4,Bxc4,axb5,axb5,Rxa1,Qxa1,Nbd7,O-O,Ne4,Nxe4,Bxe4,Nd2,Nf6,f3,Bg6,e4,Qd7,Rd1,c6,Qa4,cxb5,Bxb5,Qb7,Qb3,Nd7,Nc4,Nb8,Ne5,Bd6,Nxg6,hxg6,e5,Be7,Bd3,Rd8,Be4,Qd7,Qxb6,Bc5,Qb3,Ba7,Bc2,Qc7,Be4,Nc6,Rc1,Nxd4', 'Rxc7,Nxb3+,Rxa7', 'https://lichess.org/training/Maz0x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MazEw', 'Rapid', 'shadow314', 1703, 'Ottoman33', 1890, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,O-O,d4,d6,Nf3,a5,b3,Na6,O-O,c5,Bb2,Bd7,Nb5,Bxb5,cxb5,Nb4,d5,Nbxd5,a4,Rb8,Ng5,e6,Ne4,Nxe4,Bxg7,Kxg7,Bxe4,Nc3,Qc2,Nxe4,Qxe4,b6,Rad1,Qc7,Qc2,Rbd8,e4,d5,exd5,exd5,Rfe1,Rd7,Rd2,Rfd8,Rde2,d4,Qd3,Rc8,Rc1,Qd6,Re4,f5,Re2,Qd5,f4,Rdc7,Re5,Qf7,Rce1,Rb8,Re6,Rbb7,Qe2,Rd7', 'Qe5+,Kg8,Re8+,Qxe8,Qxe8+', 'https://lichess.org/training/MazEw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MAZF1', 'Rapid', 'Lenbor19', 1971, 'Delija60', 1943, 'e4,Nf6,e5,Nd5,d4,e6,Nf3,Be7,Bc4,Nb6,Nbd2,O-O,b3,c5,c3,cxd4,cxd4,Bb4,O-O,Be7,Qc2,d5,Bd3,g6,Nb1,Bd7,Nc3,a6,Qd2,f5,exf6,Bxf6,Ne5,Bxe5,dxe5,Bc6,Qh6,Qe7,Bg5,Qg7,Qxg7+,Kxg7,Bf6+,Kg8,Rac1,N8d7,Be7,Rf7,Bd6,Nc8,Ne2,Nxd6,exd6,e5,Rfe1,Raf8,f3,Rf6,Ng3,Rxd6,a4,Rdf6,a5,Rf4,Bxa6,Rb4,Bf1,Rxb3,a6,Bb5,Bxb5,Rxb5,a7,Ra8,Ra1,Kf7,Ne2,Ke6', 'Nd4+,Kd6,Nxb5+', 'https://lichess.org/training/MAZF1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('maZi3', 'Rapid', 'eron48', 1937, 'Wombelbay', 1925, 'e4,c5,b4,b6,c3,Bb7,f3,e6,d4,cxd4,cxd4,Qh4+,g3,Qd8,Bd2,Nf6,Bd3,Be7,Ne2,O-O,O-O,Nc6,a3,a6,Nbc3,b5,Rc1,Re8,Be3,Bf8,Qd2,Rc8,Bg5,h6,Be3,Qc7,e5,Nh7,f4,Ba8,Qc2,g6,h4,Qb7,Be4,Rc7,h5,d5,Bd3,f6,hxg6,fxe5,gxh7+,Kh8,fxe5,Rg7,Bxh6,Rxg3+,Nxg3,Bxh6,Rcd1,Qg7,Rf3', 'Nxd4,Qg2,Nxf3+', 'https://lichess.org/training/maZi3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MazYV', 'Rapid', 'grif979v', 1808, 'ahm3dr3da', 1780, 'e4,c5,Nf3,Nc6,c3,Nf6,d3,d6,h3,g6,Be2,Bg7,O-O,O-O,Nh2,b5,f4,Bb7,Be3,Ne8,f5,Ne5,Ng4,h5,Nxe5,Bxe5,fxg6,fxg6,Rxf8+,Kxf8,Qf1+,Kg8,Nd2,Nf6,Qf3,d5,Rd1,dxe4,Nxe4,Qc7,Kh1,c4,Nxf6+,Bxf6,Qf1,Qg3,dxc4,Qxe3,cxb5,a6,a4,axb5,axb5,Ra2', 'Bc4+,Kg7,Bxa2', 'https://lichess.org/training/MazYV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mB02D', 'Rapid', 'Jumjaw', 1693, 'PEPAVAJDIK', 1708, 'd4,d5,Bf4,c5,e3,Nc6,Nc3,Bf5,Nb5,Qa5+,c3,Rc8,Qc2,Bxc2,Nf3,c4,b4,Qxb5,Be2,Nf6,O-O,e6,Rfe1,Be7,a4,O-O,axb5,Nd8,Ne5,Bf5,Rxa7,Bd6,g4,Bg6', 'Nxg6,fxg6,Bxd6', 'https://lichess.org/training/mB02D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mB0YQ', 'Rapid', 'Jmmz_fam', 1898, 'Shubhamroy96', 1885, 'd4,d5,c4,e6,Nc3,b6,Nf3,Bd6,Bg5,f6,Bh4,Ne7,e3,O-O,Bd3,dxc4,Bxc4,a6,Qd3,b5,Bb3,b4,Bc2,Ng6,Ne2,Bb7,Bg3,f5,Ne5,Be4,Qc4,Bd5,Qd3,Bxg2,Rg1,Be4,Qb3,Bd5,Qd3,Nd7,Nxg6,hxg6,Bxd6,cxd6,Rxg6,Nf6,Nf4,Be4,Qb3,Qc8,Bxe4,fxe4,Nxe6,Rf7,Ng5,d5,Nxf7,Kxf7,Rg1,a5,Kd2,Qa6,Rac1,Ra7,a4,bxa3,bxa3,a4,Qc3,Rb7,Rb1,Rd7,Rb4,Ne8,Qc5,Qd3+,Kc1', 'Rc7,Qxc7+,Nxc7', 'https://lichess.org/training/mB0YQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mb1Sk', 'Rapid', 'obobob', 1671, 'Badramzil', 1608, 'e4,e5,Nf3,d6,Bc4,h6,c3,Nf6,Qb3,Be6,Bxe6,fxe6,Qxe6+,Be7,d4,Nc6,dxe5,dxe5,Nbd2,Qd6,Qb3,O-O-O,O-O,g5,Nc4,Qd3,Nfxe5,Qxe4,Nf7,Ng4,Nxh8,Rxh8,Ne3,Nf6,Qf7,h5,b4,h4,Qg7,Rg8,Qf7,Ne5,Qxe7', 'Nf3+,gxf3,Qxe7', 'https://lichess.org/training/Mb1Sk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MB252', 'Rapid', 'DrGogo', 1669, 'E4clabase', 1651, 'e4,e5,f4,d6,f5,Nf6,d3,Be7,Nf3,Nc6,Be2,a6,O-O,O-O,Ng5,h6,Nh3,Nd4,Bxh6,gxh6,Bh5,Nxh5,Qxh5,Kh7,g4,Rg8,Kh1,Nxc2,Nc3,Nxa1,Nd5,Bg5,Qxf7+,Rg7,Nxg5+,hxg5', 'Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/MB252');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mb2E2', 'Blitz', 'akshay2200', 2081, 'GM INDIAN-ELEPHANT', 2481, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Nxe4,c3,d5,Bd3,dxc3,Re1,Be7,Nxc3,Nxc3,bxc3,O-O,Qc2,h6,Bf4,Bg4,Ne5,Nxe5,Bxe5,Bd6,Bd4,Qh4,g3,Qg5,Be3,Qh5,Rab1,b6,Qd2,Rae8,Bb5,Bf3,Bd4,Re4,Rxe4,dxe4,Bf1,f5,c4,f4,Bc3,Rf5,Qd4,Qf7,c5,Rxc5,Bb4,Rd5,Qc3,Bxb4,Qxb4,c5,Qb5,Kh7,Bc4,e3,fxe3,fxe3,Qb3,Be4,Bxd5', 'Qf2#', 'https://lichess.org/training/Mb2E2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mb2hw', 'Blitz', 'bkwy10', 2063, 'nathanchimerasoul', 2153, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,Nd4,Bc4,e6,O-O,Ne7,d3,O-O,a3,d5,Ba2,b6,e5,h5,Nxd4,cxd4,Ne2,Nf5,Ng3,Ne3,Bxe3,dxe3,d4,Ba6,Re1,h4,Ne2,Rc8,Qc1,Qc7,Bb3,Bc4,Qxe3,Bxb3,cxb3,Qc2,Rab1,Qf5,Nc3,a6,Rbd1,Bh6,Rf1,Rc6,g3,hxg3,hxg3,Qc2,Qd2,Qxb3,Kg2,Kg7,Rh1,Rh8,Qe2,b5,g4,Bxf4,Rxh8,Kxh8,Rh1+,Kg8,Qf2,g5,Kg1,Rxc3,bxc3,Qxc3,Kg2,Qxa3,Rh3,Qa1,Qc2,Qxd4', 'Qc8+,Kg7,Qh8+,Kg6,Rh6#', 'https://lichess.org/training/Mb2hw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mb3HQ', 'Rapid', 'LVG27', 2083, 'Double_Questionmark', 2031, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Nge7,O-O,d5,exd5,exd5,Bb3,g6,Re1,Be6,d4,c4,Ba4,Bg7,Ng5,O-O,Rxe6,fxe6,Nxe6,Qd6,Nxf8,Rxf8,Be3,Nf5,Bxc6,bxc6,Qg4,Qf6,Ne2,Nxe3,fxe3,Qf2+,Kh1,h5,Qe6+,Kh7,Ng3,h4,Qh3,g5,Rg1,Bh6,Nh5,Rg8,Qg4,Rf8,h3,Qxe3,c3,Qf2,g3,Qf3+,Qxf3,Rxf3,Kh2,Kg6,g4,Bf8,Re1,Bd6+', 'Kg2,Rd3,Re6+,Kf7,Rxd6', 'https://lichess.org/training/Mb3HQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mb4Wd', 'Rapid', 'Jefferies123', 1915, 'bashuile', 1867, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,Bd6,e5,Qe7,Bf4,O-O,Nd5,Nxd5,Qxd5,Re8,O-O-O,Bxe5,Bxe5,Qxe5,Bc4,Qf4+,Kb1,d6,Rd4,Qxf2,Rdd1,Be6,Qd3,Bxc4,Qxc4,Re7,Rhf1,Qe3,a3,Qe5,Rfe1,Qxe1,Rxe1,Rxe1+,Ka2,Re7,g4,c5,h4,a6,Qd5,Rb8,g5,Rd8,h5,Re5,Qxb7,Rxg5', 'Qe7,Rf8,Qxg5', 'https://lichess.org/training/mb4Wd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mB9AM', 'Blitz', 'shammies', 2053, 'ZayZay', 1668, 'd4,Nf6,c4,d5,cxd5,Nxd5,Nf3,Nc6,e4,Nb6,d5,Nb8,Be3,Bg4,Nc3,N8d7,Be2,e6,O-O,exd5,exd5,Nf6,h3,Bh5,Bb5+,Nfd7,Bd4,a6,Re1+,Be7,Bxg7,Rg8,Bxd7+,Qxd7,Bf6,Nc8,Ne4,Qxh3,Ng3,Qg4,Re4,Qg6,Bxe7,Nxe7,Qe2,f5,Rxe7+,Kf8,Nh4,Bxe2,Nxg6+,Rxg6,Rxe2,Kf7,Nh5,Rag8,Nf4,Rg4,Ne6,Rxg2+,Kh1,R2g4,Re3', 'Rh4+,Rh3,Rxh3#', 'https://lichess.org/training/mB9AM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBA5P', 'Classical', 'manulinho_gz', 1693, 'a_emmi', 1700, 'e4,c5,Bc4,e6,d3,d5,Bb3,dxe4,dxe4,Qxd1+,Kxd1,b5,c3,Bb7,Bc2,Nf6,Nd2,Nbd7,f4,Ng4,Nh3', 'Ne3+,Ke2,Nxc2', 'https://lichess.org/training/MBA5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbAVS', 'Rapid', 'tlarus', 1918, 'suleiman86', 1920, 'e4,d5,exd5,Nf6,Bb5+,c6,dxc6,Nxc6,Nf3,Bg4,Be2,e5,d3,Bc5,O-O,O-O,Nc3,Qe7,Bg5,Rad8,Ne4,Bb6,Bxf6,gxf6,h3,Bh5,Qc1,f5,Ng3,Bg6,Qh6,e4,dxe4,fxe4,Ng5,e3,Nh5,exf2+,Kh1,Bd4,Bc4,Bxb2,Rab1,Bf6,Nxf7,Bxf7', 'Nxf6+,Qxf6,Qxf6', 'https://lichess.org/training/mbAVS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBBZt', 'Rapid', 'fareed2', 1969, 'Stranio', 1887, 'f4,c5,Nf3,Nc6,e4,d6,Bc4,Nf6,d3,e5,a3,Be7,O-O,O-O,Nc3,a6,f5,b5,Ba2,Bb7,Qe1,Nd4,Nxd4,cxd4,Ne2,Rc8,Bb3,a5,a4,b4,Bg5,Nd7,Bxe7,Qxe7,Qg3,d5,Qg4,Nc5', 'f6,Qxf6,Rxf6', 'https://lichess.org/training/MBBZt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MbCRc', 'Rapid', 'jfigueroaucsc', 1766, 'mauri79', 1824, 'c4,g6,Nc3,Bg7,d4,c6,e4,d6,Bf4,Qa5,Nf3,c5,Qd2,cxd4,Nxd4,Nf6,Nb3,Qb4,Nd5,Nxd5,cxd5,Qxe4+,Be3,b6,f3,Qh4+,g3,Qa4,Bd3,Na6,Qe2,O-O', 'Bb5,Qb4+,Bd2,Qxb5,Qxb5', 'https://lichess.org/training/MbCRc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBD1Y', 'Rapid', 'PLATTERS', 1919, 'Bobxadrez', 1713, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Ne5,Nc3,a6,Be3,e6,f4,Ng6,Bd3,Qa5,Qd2,Qb4,O-O-O,Qa5,Nb3,Qc7,f5,Ne5,fxe6,dxe6,h3,Ne7,Rhf1,N7g6,Bg5,Bb4,Bb5+,axb5', 'Qd8+,Qxd8,Rxd8#', 'https://lichess.org/training/mBD1Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBd93', 'Blitz', 'wizardkrishna', 1873, 'apsid', 1898, 'c4,Nf6,Nc3,g6,d3,Bg7,e3,O-O,Nf3,d5,a3,dxc4,d4,c5,Bxc4,cxd4,Nxd4,a6,Qb3,b5,Be2,e5,Nf3,Be6,Qc2,Nc6,O-O,Qc7,Bd2,Rad8,Rac1,Qb7,Ne4,Nxe4,Qxe4,Bd5,Qc2,f5,Bc3,Bxf3,Bxf3,e4,Bxg7,Qxg7,Bxe4,fxe4,Qxc6,Qxb2,Qxe4,Qxa3,Qe6+,Kh8,Rc7,Qb2,Qe7', 'Qxf2+,Rxf2,Rd1+,Rf1,Rdxf1#', 'https://lichess.org/training/MBd93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBdRu', 'Rapid', 'aaruchess', 2024, 'Elbess', 2053, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Nge7,d4,d5,exd5,Nxd5,dxc5,Bxc5,Bxd5,exd5,Be3,Qb6,Bxc5,Qxc5,Re1+,Be6,Nc3,O-O,a3,d4,Ne4,Qd5,Nfg5,Bf5,Qf3,Bxe4,Nxe4,Rad8,Rad1,Rfe8', 'Nf6+,gxf6,Rxe8+,Rxe8,Qxd5', 'https://lichess.org/training/MBdRu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbDzE', 'Rapid', 'hemaahmed', 1670, 'navin9818', 1660, 'e4,e5,f4,exf4,Nf3,Nf6,e5,Ng4,d4,Bb4+,c3,Ba5,Bxf4,O-O,Bd3,d6,O-O,dxe5,Nxe5,Nxe5,Bxe5,Nc6,Qh5,g6,Bxg6', 'fxg6,Rxf8+,Qxf8', 'https://lichess.org/training/mbDzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbEgj', 'Rapid', 'MisterMystere', 1625, 'magichristian02', 1626, 'e4,c6,Nf3,d5,exd5,cxd5,Bd3,Nc6,O-O,e5,Bb5,Bd6,Bxc6+,bxc6,d3,Ne7,Re1,Ng6,c4,O-O,cxd5,cxd5,Nc3,Bb7,Nb5,Bb4,Bd2,a5,Bxb4,axb4,Nxe5,Re8,Nxg6,Rxe1+,Qxe1,hxg6,Qxb4,Qb6,b3,Bc6,Qd6,Qxb5,Rc1,Rxa2,Qd8+,Kh7,Qh4+,Kg8,h3,f6,b4,Ra4,Qg4,Bd7,Qxg6,Rxb4,h4,Rxh4,Qg3,g5,Qc7,Rh7,Qd8+,Kf7,g3,Ke6', 'Qg8+,Kd6,Qxh7', 'https://lichess.org/training/mbEgj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbeLV', 'Rapid', 'angelo-casali', 1835, 'fredstarek', 1765, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Nbd2,Nxe5,Nxe5,Qxe5,Nf3,Qf6,e3,d6,Be2,h6,O-O,g5,Qd4,g4,Qxf6,Nxf6,Nd4,h5,Nb5,Kd7,b3,a6,Na3,Rg8,Bb2,Bg7,c4,Ke8,Rad1,h4,Nc2,c5,Ba1,Bf5,Bd3,Bxd3,Rxd3,Rd8,f3,gxf3,Rxf3,Ne4,Bxg7,Rxg7,Rf4,Ng5,Kf2,h3,g3,Kf8,Rd5,Rg6,Ne1,Re8,Nc2,Ne4+,Kf3,Nc3,Rdf5,Rg7,a3,b5,Rh4,bxc4,bxc4,Rb8,Rxh3,Rb2,Ne1,Ra2,Nd3,Rxa3,Rh6,Nd1,Rxd6,Ke7,Rfd5,Nc3,Rd7+,Kf6,R5d6+,Kf5,e4+,Nxe4,Rd5+,Ke6,Kxe4,f5+,Kf3', 'Rxd7,Rxd7,Kxd7', 'https://lichess.org/training/mbeLV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbfYt', 'Classical', 'Temirstali', 1671, 'nazarete', 1632, 'Nf3,c5,g3,Nc6,Bg2,d5,d3,e5,O-O,Bf5,Nbd2,g6,Re1,Bg7,e4,dxe4,dxe4,Bg4,Nc4,Bd7,h4,Nge7,Bg5,f6,Be3,b6,Qc1,Be6,Rd1,Qc7,Nd6+,Kf8,Bh6,Rd8,Bxg7+,Kxg7,Nf5+,gxf5,Rxd8,Rxd8,h5,Bf7,h6+,Kg6', 'Nh4+,Kh5,Bf3#', 'https://lichess.org/training/mbfYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbgwX', 'Classical', 'kheary11', 1924, 'y3LL3r', 1947, 'e4,c5,Nf3,d6,d3,g6,g3,Bg7,Bg2,Nc6,O-O,Nf6,c3,Nd7,Nbd2,O-O,Qc2,Qc7,Rb1,a5,a4,Rb8,d4,cxd4,cxd4,Qb6,Nc4,Qa6,b3,Nxd4,Nxd4,Bxd4,Re1,Qa7,Be3,Bxe3,Nxe3,Ne5,Kh1,Be6,Qe2,Nc6,Nd5,Bxd5,exd5,Nb4,Qf3,b6,Qg4,Rfc8,Rbc1,Rc5,Qe2,Rb7,h4,Rbc7,Qe3,Rxc1,Rxc1,Rxc1+,Qxc1,Nd3', 'Qc8+,Kg7,Qc3+,Ne5,f4', 'https://lichess.org/training/mbgwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbH7I', 'Rapid', 'IronmanIM', 1851, 'Omira', 1958, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,g6,d4,cxd4,Qxd4,Bg7,e5,dxe5,Qxe5,O-O,O-O,Nc6,Qe2,Bf5,Bf4,Rc8,Rad1,Qb6,Na4,Qa5,b3,a6,Bd3,Bxd3,Rxd3,b5,Nc5,Nb4,Nd7,Nxd3,Nxf6+,Bxf6,Qxd3,Rfd8,Qe3,Qc3,Qb6,Qc6,Qa5,Bc3,Qa3,b4,Qc1,Bg7,Qe3,e6,Ne5,Qc3,Qe4,Qxc2,Qe3,Rd5,Re1,Qc3,Qe4,f5,Qe2,Qc2,Qxa6,Re8,Qa4,Rb8,Qa6,Re8,Qa4,Red8,Qxb4,Rd4,Qe7,Qc3,Qxe6+,Kh8,Nf7+,Kg8,Nh6+,Kh8,Qg8+,Rxg8', 'Nf7#', 'https://lichess.org/training/mbH7I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mbh8K', 'Rapid', 'kaya7171', 1847, 'ShamanovManaf', 1890, 'e4,d6,d4,Nc6,c4,e5,d5,Nd4,Be3,c5,Nf3,Qb6,b3,Bg4,Bxd4,cxd4,Be2,Qa6,O-O,Qb6,Qd3,Bxf3,Qxf3,Nf6,Nd2,Be7,Qd3,Qc7,Rac1,b6,f4,Nd7,b4,f6,f5,O-O,Rf3,Kh8,Rh3,Rg8,Qf3,Qc8,Qh5,Nf8,Nf3,Qe8,Qh4,a5,Qg3,axb4,Rc2,b5,Nh4,bxc4', 'Ng6+,Qxg6,fxg6', 'https://lichess.org/training/Mbh8K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBhYp', 'Rapid', 'Blindfist', 1564, 'officerswagdaddy', 1592, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,Bg7,Bc4,Nxe4,O-O,Nxc3,bxc3,Bg4', 'Bxf7+,Kxf7,Ng5+,Ke8,Qxg4', 'https://lichess.org/training/MBhYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbI3Z', 'Rapid', 'gn9382', 1941, 'HarishParewa123', 1903, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,a4,a5,O-O,d5,exd5,Nxd5,Bb3,Nf4,d4,Bd6,dxe5,Bxe5,Qxd8,Ne2+,Kh1,Rxd8,Nxe5,Nxc1,Bxf7+,Kf8,Nxc6,bxc6,Bc4,Nd3,b3,Bf5,Kg1,Ne5,Be2,Rab8,Rd1,Re8,Nd2,Nd7,Bf3,Ne5,Nc4,Nxf3+,gxf3,Rxb3,Nxa5,Rxc3,Rdc1,Rxf3,Nxc6,Re2', 'Nd4,Rfxf2,Nxe2', 'https://lichess.org/training/mbI3Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mbkhl', 'Classical', 'fulad', 1632, 'Splintz', 1689, 'd4,d5,e3,Nf6,Qf3,Nc6,Bb5,Qd6,Nh3,a6,Bd3,Qb4+,Nc3,Bg4,Qg3,e6,Qxc7', 'Bd6,a3,Qxc3+,bxc3,Bxc7', 'https://lichess.org/training/Mbkhl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbLnW', 'Blitz', 'Adrochatio', 2330, 'FM NoMoreJokes', 2284, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,c5,d5,d6,Bd3,a6,Nge2,O-O,O-O,Nbd7,h3,Rb8,a3,Ne5,Ng3,Nxd3,Qxd3,b5,cxb5,axb5,Nxb5,Ba6,a4,Qd7,Be3,Bxb5,axb5,Qxb5,Qxb5,Rxb5,Ra7,e6,dxe6,fxe6,e5,dxe5,Rd1,Nd5,Bc1,e4,Nxe4,Bd4,Rf1,Nb4,Nd6,Rb6,Nc4,Rbb8,Be3,Nd3,Bxd4,cxd4,Ra2,Nb4,Ra4,d3,Raa1,Rfe8,Ne5,Rb5,Nc4,e5,Rad1,e4,Rfe1,Nc2,Rf1,Rb4,Nd6,Re6,Nc8,Rxb2,Rb1,Rxb1,Rxb1,d2,Rd1,e3,fxe3,Nxe3,Rxd2,Rc6', 'Ne7+,Kf8,Nxc6', 'https://lichess.org/training/mbLnW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBlp8', 'Classical', 'GiorgiMach', 1944, 'brocker7', 1896, 'd4,Nf6,c4,d5,Nc3,Bf5,cxd5,Nxd5,f3,Nxc3,bxc3,e6,Bf4,c5,e4,Bg6,Bb5+,Nd7,Ne2,a6,Ba4,b5,Bc2,c4,h4,h5,Bd2,Be7,g3,Qc7,a4,O-O,Kf2,e5,dxe5,Qxe5,Bf4,Qc5+,Be3,Qc6,Nd4,Qb7,Qb1,Bc5,Rd1,Bxd4,Bxd4,Rfd8,Qb4,f6,Rdb1,Be8,axb5,axb5,Qd6,Ne5,Qe6+,Bf7,Qb6,Qxb6,Bxb6,Rd2+,Ke1,Rxa1,Kxd2,Rxb1,Bxb1,Nxf3+,Ke3,Ne5,Bc7,Ng4+,Kf4,Kf8,e5,fxe5+,Bxe5,g6,Bd4,Ke7,Kg5,Nh2,Bxg6', 'Nf3+,Kf4,Nxd4,Bxf7,Kxf7', 'https://lichess.org/training/mBlp8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBm2u', 'Rapid', 'Nogodnomaster', 1879, 'BerserkRaph2', 1903, 'Nc3,d6,e4,Nf6,d4,g6,f3,Bg7,Be3,Nc6,Qd2,O-O,g4,a5,h4,Na7,Bh6,c6,Bxg7,Kxg7,h5,b5,hxg6,fxg6,Qh6+,Kf7,g5,Ng8,Qxh7+,Ke8,Qxg6+,Kd7,Bh3+,Kc7,Bxc8,Kxc8,O-O-O,b4,Na4,Nb5,Rh8,Kb7,e5,Qc7,exd6,exd6,Ne2', 'Ne7,Qd3,Rxh8', 'https://lichess.org/training/mBm2u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBM3m', 'Classical', 'kirillm', 1691, 'LordJJ', 1889, 'e4,d6,f4,Nf6,Nc3,g6,d4,Bg7,Be3,O-O,h3,c5,e5,cxd4', 'exf6,Bxf6,Bxd4', 'https://lichess.org/training/MBM3m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbn2C', 'Blitz', 'dariozac', 1933, 'SirLancelot59', 1899, 'e4,Nf6,e5,Nd5,d4,d6,Bc4,c6,f4,Nd7,Nf3,N7b6,Bb3,Bg4,O-O,e6,c4,Nb4,Bd2,dxe5,dxe5,Na6,Nc3,Qc7,h3,Bh5,Qe1,Be7,Be3,O-O-O,Rd1,Rxd1,Qxd1,Nc5,Qc2,Nxb3,axb3,Bg6,Qf2,f6,Ra1,Kb8,Rxa7,Kxa7,Na4,Kb8,Bxb6,Qd7,Nd4,fxe5,fxe5,Rf8,Qe3,c5,Nb5,Qd1+,Kh2,Rf1', 'Bc7+,Kc8,Nb6#', 'https://lichess.org/training/mbn2C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBnP0', 'Classical', 'EvaBoholiubova', 1689, 'Andrei-2012rus', 1784, 'e4,e6,d4,d5,exd5,exd5,Bf4,Nf6,Nc3,Bf5,Bd3,Bxd3,Qxd3,Bb4,Ne2,O-O,O-O,Nc6,Bg5,h6,Bxf6,Qxf6,Nxd5,Qd6,Nxb4,Nxb4,Qc3,Rfe8,Nc1,Nc6,Nb3,Re4,Rad1,Rd8,Nc5,Rxd4', 'Nxb7,Rxd1,Nxd6', 'https://lichess.org/training/MBnP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBOAf', 'Rapid', 'Ageold', 1820, 'garmaew', 1898, 'd4,d5,Bf4,e6,Nf3,Nf6,h3,b6,e3,Bb7,Be2,Nbd7,Nbd2,h6,Rc1,c5,c3,Rc8,Bb5,a6,Bxd7+,Qxd7,O-O,Bd6,Ne5,Qc7,h4,g5,hxg5,hxg5,Bxg5,Bxe5,dxe5,Qxe5,Bf4,Qf5,Qf3,Qh7,Qh3,Qxh3,gxh3,Rxh3,Kg2,Rh5,Rg1,Ke7,Kf1,Rg8,Rxg8,Nxg8,Ke2,e5,Bg3,f5,Bxe5,Ke6,Bc7,b5,Nb3,Kd7,Bb6,c4,Nc5+,Kc6,Nxb7,Kxb6,Nd6,Nh6,Rg1,Ng4,Nxf5,Rxf5,Rxg4,Kc5,f3,a5,e4,dxe4,Rxe4,b4,cxb4+,axb4,Ke3,Rd5,f4,Rd3+,Ke2,b3,axb3,Rxb3,f5,Rxb2+,Ke1,Rb6,Rf4,Rf6,Kd2,Kb4,Kc2,Rh6,f6,Rh2+,Kc1,Kb3,Rf3+,c3,f7', 'Rh1+,Rf1,Rxf1#', 'https://lichess.org/training/mBOAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MbONN', 'Blitz', 'Camilomoreno', 2036, 'Mancancan1982', 1842, 'f4,d5,Nf3,Bf5,e3,e6,Be2,h6,O-O,c5,d3,Nc6,Nc3,Nf6,Qe1,Be7,Ne5,Nxe5,fxe5,Nd7,d4,Bxc2,Bh5,O-O,Qg3,Kh7,Rxf7,Rxf7,Bxf7,Nf8,e4,cxd4,Ne2,d3,Nf4,dxe4,Nxe6,Nxe6,Qg6+,Kh8,Bxh6,d2', 'Bxg7+,Nxg7,Qh6#', 'https://lichess.org/training/MbONN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBp1U', 'Rapid', 'avive', 1684, 'chessdrunkard', 1646, 'd4,e6,c4,f5,Nc3,b6,Nf3,d6,Bg5,Nf6,e3,Be7,Bd3,O-O,O-O,Na6,a3,c5,Nb5,Qe8,Re1,Qh5,Be2,Bd8,Bxf6,Rxf6,Ne5,Qh4,Nf3,Qh5,Nxd6,Rh6,h3,Bd7,Ne5,Qh4,Nxd7,Bc7,Nb5,Rg6,Kh1,Qxf2,Bf3,Rg3,Bxa8', 'Rxh3+,gxh3,Qh2#', 'https://lichess.org/training/mBp1U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MbpA5', 'Blitz', 'vicsailors', 1569, 'Abdoumia', 1575, 'c4,g6,g3,Bg7,d4,Nf6,Bg2,O-O,Nf3,d6,d5,c6,Nc3,Qa5,Bd2,Bd7,Nb5,Qb6,Be3,Qa5+,Bd2,Qb6,Nc3,Be8,O-O,Nbd7,Be3,Qc7,Rc1,Nb6,dxc6,bxc6,b3,Rb8,a4,a5,Nd4,c5,Ndb5,Bxb5,Nxb5,Qd8,Rc2,Nbd7,Rd2,Ne5,Bf4,Nfd7,Bxe5,Bxe5,Kh1,Qb6,f4,Bf6,e4,Rbd8,e5,Bg7,exd6,e6,Re1,Nf6,d7,Ng4,Rf1,h5,h3,Nf6,Rd6,Qb8,Qd3,Kh7,g4,h4,g5,Ng8,Be4,Bd4,Bxg6+,fxg6,Rxe6,Rxd7,Qxg6+,Kh8,Qh5+,Rh7,Qg6,Qb7+,Kh2,Rff7,Nd6,Qxb3,Nxf7+,Rxf7,Qxf7', 'Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/MbpA5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBQ1d', 'Blitz', 'azadkara', 1577, 'kflaugh', 1617, 'e4,e5,f4,exf4,Nf3,g5,d4,g4,Bc4,gxf3,O-O,fxg2,Rxf4,d6,Bxf7+,Kd7,Qg4+,Kc6,Bd5+,Kb6,Qe2,c6,Rf7,Ne7,Nc3,cxd5', 'Qb5+,Kc7,Nxd5#', 'https://lichess.org/training/MBQ1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBQQ0', 'Classical', 'vpetkov', 2006, 'Aidy', 1915, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,e6,Bb3,a5,Re1,c6,a4,Nbd7,Bg5,h6,Bf4,d5,e5,Nh7,Qd2,g5,Be3,f5,exf6,Ndxf6,Ne5,Qe8,Qd3,Ra6,Ne2,Ne4,f3,Nc5,Qc3,Nxb3,Qxb3,Bxe5,dxe5,b6,Bxb6,Qe7,Qe3,Rf7,Bc5,Qb7,b3,Ra8,Rad1,Bd7,f4,Qc8,Rf1,g4,f5,exf5,Qxh6,Be6,Nf4,Bd7,e6,Rf6,exd7,Qxd7,Qh4,Re8,Rfe1,Re4,Qg3,Ng5,Qh4,Nh7,Rxe4,fxe4,Ne2,Qf5,Qg3,Ng5,Qb8+,Kh7,Bd4,Rf8,Qg3,Ne6,Bb2,c5,Be5,d4,h3,gxh3,Qxh3+,Kg8,Qh8+,Kf7,Qh2,Ke8,Qg3,e3,Bb8,Qxc2,Re1,Qf5,Nc1', 'Qf2+,Qxf2,exf2+', 'https://lichess.org/training/mBQQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBqvX', 'Rapid', 'R22Cosh', 1835, 'shariful', 1794, 'd4,d5,e3,Nf6,c4,g6,Nc3,Bg7,Be2,O-O,Nf3,Re8,cxd5,Nxd5,e4,Nb6,O-O,Nc6,Bb5,Bd7,Be3,a6,Be2,Na5,b3,Nc6,Rc1,e5,d5,Ne7,Qc2,Rc8,Qd2,f5,Bg5,fxe4,Nxe4,Nbxd5,Bc4,Be6,Rfd1,c6,Nc5,Bf7,Nxb7,Qc7,Nc5,Nf5,Nxa6,Qb6,Re1,e4,Nh4,e3,fxe3,Nfxe3,Kh1,Nxc4,bxc4,Bc3,Rxe8+,Rxe8,Qc2,Nb4,Qxc3', 'Nxa2,Qd2,Nxc1', 'https://lichess.org/training/mBqvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBrm3', 'Rapid', 'Randomplayer012', 1839, 'Akakivic', 1844, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be6,Be3,Be7,Qd2,Nbd7,g4,b5,h4,Nb6,O-O-O,Qc7,Bxb6,Qxb6,Nd5,Bxd5,exd5,O-O-O,Na5,Kd7,Nc6,Rc8,Nxe7,Kxe7,Bh3,Qc5,Rhe1,Nxd5,g5,Rc7,f4,Nb4,c3,Nxa2+,Kb1,b4,Kxa2,Qa5+,Kb1,Rd8,fxe5,b3,exd6+,Kf8,dxc7', 'Qa2+,Kc1,Qa1#', 'https://lichess.org/training/mBrm3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBRmF', 'Rapid', 'BlueSoup', 1701, 'leapfrog', 1628, 'd4,e6,e4,Be7,c4,d6,f4,Bd7,Nf3,c6,Be2,Nf6,Nc3,b5,a3,a6,O-O,d5,e5,Ne4,cxd5,exd5,Bd3,Bf5,h3,h5,Qe1,g6,Nxe4,dxe4,Bxe4,Ra7,Bxf5,gxf5,Qc3,Qb6,Be3,Nd7,d5,Bc5,Bxc5,Nxc5,Kh1,Ne4,Qxc6+,Qxc6,dxc6,Ng3+,Kg1,Nxf1,Kxf1,Rc7,Rc1,Ke7,Nd4,Rd8,Nxf5+,Ke6,Ng3,Rd2,Nxh5,Rxb2,Nf6,Kf5,g3,Ra2,Nd5,Rxa3,Nxc7,Rxg3,Nxa6,Rxh3,c7', 'Rh1+,Ke2,Rxc1', 'https://lichess.org/training/mBRmF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbRX8', 'Rapid', 'miloszb', 2101, 'Leha80', 2048, 'e4,c5,Nf3,Nc6,Bb5,d6,d4,cxd4,Qxd4,a6,Bxc6+,bxc6,Nc3,c5,Qd3,Bb7,Bg5,h6,Bh4,g5,Bg3,Nf6,O-O-O,Bg7,Nd5,Nxd5,exd5,Qb6,c3,a5,Rhe1,Ba6,Qe3,Ra7,h4,g4,Nd2,Rb7,b3,a4,f3,gxf3,gxf3,O-O,Bf4,axb3,Nxb3,c4,Qxb6,Rxb6,Nd2,Bxc3,Bxh6,Rfb8,Re3,Bd4,Re4,Bb2+,Kc2,Be5,Nxc4,Bxc4,Rxc4,Rb2+,Kd3,Rxa2,f4,Rb3+,Ke4,Re2+,Kf5,Bf6,Rg1+,Kh7,Bg5,Rd3,Bxf6,Rxd5+,Kg4,exf6,Rc7,Kg7', 'Kf3+,Kf8,Kxe2', 'https://lichess.org/training/mbRX8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbTce', 'Classical', 'hercule-poivrot', 1870, 'VADIRAJU', 1889, 'e4,c5,c3,g6,Nf3,Bg7,d4,cxd4,cxd4,Nf6,Nc3,O-O,h3,b6,Be3,Bb7,Bd3,Nc6,a3,Rc8,O-O,a6,d5,Nb8,Na4,b5,Bb6,Qe8,Nc5,Ba8,Rc1,d6,Nb3,Nbd7,Bc7,Bh6,Rc2,Nc5,Nxc5,dxc5,Rxc5,Qd7,Qc2,e6,d6,Bf4,e5,Nd5,h4,Bb7,h5,Nxc7,dxc7,f6,hxg6,hxg6,exf6,Rxf6,Nh4,Rxc7,Rxc7,Bxc7,Rc1,Bf4,Rd1,g5', 'Bh7+,Qxh7,Rd8+,Rf8,Rxf8+,Kxf8,Qxh7', 'https://lichess.org/training/mbTce');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBtMe', 'Blitz', 'MCubillo17', 2145, 'Robin66', 2028, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Nf6,e5,d5,exf6,dxc4,Qe2+,Be6,Bg5,gxf6,Bf4,Bd6,Bg3,Qd7,O-O,O-O-O,Nbd2,h5,Nxc4,Bxg3,hxg3,Bg4,Qd3,Bxf3,Qxf3,Ne5,Qb3,Nxc4,Qxc4,Qd5,Qxd5,Rxd5,Rfe1,Rd7,Re4,f5,Re5,h4,gxh4,Rxh4,Rxf5,b6,Rd1,c5,Rd3,Re7,g3,Rh6,c3,Rd7,cxd4,cxd4,Kg2,Re6,Kf3,Kb7,Rf4,Red6,Ke4,Re6+,Kf5,Rd5+,Kg4,Rd7,Kf3,Red6,g4,Rd5,Ke4,Kc6,Rf6+,Kc5,b3,Re7+,Kf3,a5,Rf4,a4,Rd1,axb3,axb3,Red7,Ke4,Kb4,Rd3,R5d6,Ke5', 'Re6+,Kf5,Rd5#', 'https://lichess.org/training/MBtMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBUJr', 'Classical', 'yarigek007', 1682, 'Sergio-G_Lino', 1662, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nde2,Be7,f4,Bg4,fxe5,dxe5,Qd2,Nc6,O-O,O-O,Ng3,Qb6+,Qe3', 'Bc5,Qxc5,Qxc5+', 'https://lichess.org/training/mBUJr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbuoY', 'Blitz', 'TheUltimateBook', 1750, 'BoskoRadic77', 1847, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Bc4,c6,Nc3,cxd5,Nxd5,e6,Ne3,Nc6,Nf3,Bc5,c3,e5,d3,e4,dxe4,Nxe4,O-O,O-O,Bd5,Be6,Bxe4,Qe7,Bxc6,bxc6,Qc2,f5,Re1,Qf7,Ne5,Qf6,Nxc6,a5,Bd2,Ra6,b4,Bxe3,Bxe3,Rxc6,Bd4,Qxd4,Rxe6,Rxc3,Qe2,Rc2,Qe5', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/mbuoY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBUt6', 'Rapid', 'ghosharka', 1700, 'chandrodaypaul', 1877, 'e4,c5,Bc4,Nc6,Nf3,d6,O-O,h6,d3,Bd7,Nc3,e5,Nd5,Nge7,Be3,Nxd5,Bxd5,Be7,h3,O-O,Qd2,Kh7,Nh2,Qc8,f4,exf4,Bxf4,Be6,Rae1,Nd4,c3,Nc6,Qe3,Bh4,Re2,Qd7,d4,cxd4,cxd4,Rfe8,Bxe6,fxe6,g3,Bd8,e5,dxe5,Bxe5,Nxe5,Qxe5,Bf6,Rxf6,gxf6,Qxf6,Rg8,Ng4,Rg6', 'Qxg6+,Kxg6,Ne5+,Kh7,Nxd7', 'https://lichess.org/training/mBUt6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbUYy', 'Rapid', 'run22', 1643, 'MaGe72', 1701, 'd4,d5,Bf4,Nf6,e3,h6,Bd3,Nc6,c3,e6,Qc2,Be7,Nd2,O-O,Ngf3,Nh5,Bg3,Nxg3,hxg3,Bf6,Rh2,e5,dxe5,Nxe5,Nxe5,Bxe5,Nf3,Bf6,O-O-O,Bg4,Rdh1,h5,Nd2,g6,Bxg6,fxg6,Qxg6+,Bg7,f3,Rf6,Qc2,Bf5,e4,dxe4,fxe4,Bg6,g4,Bh6,gxh5,Bxe4,Qb3+,Bd5,Qc2,Qf8,Rd1,Re8,Kb1,Qg7,Ka1,Re2,c4,Bc6,Qc3,Bxd2,Qb3,Rxg2,Rhh1,Bh6,c5+,Kh8,a4,Rff2,Rd8+,Kh7', 'Qd3+,Rg6,hxg6+', 'https://lichess.org/training/mbUYy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mBWex', 'Blitz', 'Ririchess', 2145, 'NM mrcorbat', 2150, 'e4,c6,d4,d5,e5,Bf5,Ne2,e6,Ng3,Bg6,h4,h5,Bd3,Ne7,Bxg6,Nxg6,Nxh5,Nxh4,g3,Ng6,Nf6+', 'gxf6,Rxh8,Nxh8', 'https://lichess.org/training/mBWex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBXFD', 'Rapid', 'wiktormeteor', 1966, 'Wolle1305', 2069, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,cxd4,cxd4,f6,exf6,Nxf6,O-O,Bd6,Nf3,Qc7,Ng3,O-O,Re1,g6,a3,Qg7,Bc2,Bd7,Ne5,Bxe5,dxe5,Ng4,Qxg4,Nxe5,Qe2,Nc6,Ba4,Nd4,Bxd7', 'Nxe2+,Rxe2,Qxd7', 'https://lichess.org/training/MBXFD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MbXjl', 'Rapid', 'cmndrnchf', 1710, 'veter-123', 1645, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,h6,O-O,Bc5,h3,d6,Re1,Qe7,a3,a6,b4,Ba7,Bb2,g5,Bd5,g4,hxg4,Bxg4,Bxc6+,bxc6,g3,Nh5,Kg2,O-O-O,Qe2,Rdg8,Qxa6+,Kd7,Qxa7,Qf6,Qe3,Qe6,Ne2,Nf6,d3,Nh7,Rh1,h5,Rh4,Qf6,d4,Bxf3+,Qxf3,Qxh4,Qxf7+,Qe7,Qf5+,Kd8,dxe5,Rg5,exd6,cxd6,Qf4,Rf8,Qe3,h4,Rd1,Qd7,Qb6+,Qc7,Qxc7+,Kxc7,Bd4,hxg3,Nxg3,Nf6,Be3,Rgg8,Bh6,Re8,f3,Re6,Bf4', 'Nh5,Rh1,Nxf4+', 'https://lichess.org/training/MbXjl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbYqU', 'Classical', 'djets', 1826, 'MadCombiner1974', 1626, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,Bxd4,Nxd4,Nxd4,f4,Nc6,fxe5,Nxe5,Bb3,h6,Bf4,d6,Bxe5,dxe5,Qxd8+,Kxd8,Bxf7,Ke7,Bc4,Nxe4,Re1,Bf5,Bd3,Rad8,Bxe4,Bxe4,Rxe4,Rd1+,Kf2,Rf8+,Ke3', 'Re1+,Kd3,Rd8+,Kc3,Rxe4', 'https://lichess.org/training/mbYqU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBYWS', 'Blitz', 'asrhiuesa', 1878, 'Moath-white', 1729, 'c4,Nf6,d4,e6,Nf3,c6,g3,Be7,Bg2,b6,O-O,Bb7,Nc3,d5,e3,O-O,b3,Nbd7,Bb2,Rc8,cxd5,cxd5,Rc1,a6,Qd3,b5,Ne2,Ne4,Nd2,Ndf6,f3,Nd6,e4,dxe4,fxe4,Rxc1,Rxc1,Nde8,e5,Nd5,Be4,f5,exf6,Nexf6,Bg2,Nb4,Qe3,Bxg2,Kxg2,Qd5+,Kg1,Ng4,Qe4,Qh5,h4,e5,dxe5,Nf2,Qg2,Nbd3,Rc2,Nxb2,Rxb2,Bc5,Kh2,Qxe2,Qd5+,Kh8,Qxc5,Ng4+,Kh3,Qh2+,Kxg4,h5+,Kxh5,Qe2+,g4', 'Rf5+,Kg6,Qxg4#', 'https://lichess.org/training/MBYWS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MBzDz', 'Rapid', 'Poweeer76', 1806, 'Anatolii_Voronkov', 1872, 'e4,e6,c4,d5,exd5,exd5,cxd5,Qxd5,Nc3,Qe6+,Nge2,Bb4,a3,Be7,g3,Nf6,Bg2,c6,O-O,O-O,Re1,Qg4,h3,Qh5,Kh2,Bd6,Ng1', 'Ng4+,Qxg4,Bxg4', 'https://lichess.org/training/MBzDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mbzxi', 'Rapid', 'kanini250', 1972, 'Jupp3', 1762, 'e4,c5,Nf3,e6,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,a6,a3,d6,O-O,Nf6,Be3,Be7,Qd2,O-O,Rad1,b5,Bb3,Bb7,Nd4,Nxd4,Bxd4,Nxe4,Nxe4,Bxe4,Qe3,Bg6,f4,Bf6,Bxf6,Qxf6,Rxd6,Qxb2,f5,Bxf5,Rd2,Qxa3,Rxf5,Rac8,Rf1,a5,Rdf2,a4,Rxf7,Rxf7,Qxe6,Qxb3', 'Qxc8+,Rf8,Rxf8#', 'https://lichess.org/training/mbzxi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mc2HG', 'Blitz', 'OzaRope', 2005, 'Omefuta', 1830, 'b3,d5,Bb2,Nc6,e3,e5,Bb5,Bd6,Nf3,f6,Nh4,Ne7,Bxc6+,bxc6,O-O,O-O,f4,e4,d3,f5,Nd2,Be6,Qe1,exd3,cxd3,c5,Qg3,Rf7,Nhf3,Ng6,Ne5,Bxe5,Bxe5,Nxe5,fxe5,c6,d4,cxd4,exd4,Qb6,Nf3,Rc8,Kh1,h6,Rad1,c5,Qg6,Rc6,Qg3,Qa5,Rf2,c4,Nh4,cxb3,Qxb3,Qa6,Ng6,Rb7,Qg3,Bf7,Nf4,g5,h3,Qa4,Rfd2,Kf8,e6,gxf4,Qxf4,Rxe6,Rc1,Rbe7,Rc8+,Be8,Qxf5+,Kg7,Qg4+,Kh7,Qf5+,Bg6,Qf8,Re1+,Kh2,Re8', 'Rc7+,R8e7,Rxe7+,Rxe7,Qxe7+', 'https://lichess.org/training/mc2HG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MC39o', 'Rapid', 'Pisador', 1783, 'supertrebejo', 2161, 'e4,c5,Nf3,Nc6,c3,g6,d4,Bg7,d5,Ne5,Nxe5,Bxe5,Bd3,d6,O-O,Bg7,Bg5,Nf6,Nd2,O-O,f4,Qc7,Qf3,a6,f5,Nd7,Qh3,Ne5,Be2,b5,Rac1,c4,Nf3,f6,Be3,Bd7,Nd4,Rab8,Qg3,g5,Nf3,h6,Nxe5,dxe5,h4,Be8,hxg5,hxg5,Qh3,a5,Kf2,Bf7,Rh1,Rfd8,Bh5,Qd7,Bxf7+,Kxf7,Qh5+,Kf8,Rh3,Qe8,Qh7,Qf7,Rch1,b4,Bd2,Ke8,Ke3,Kd7,R3h2,Rdc8,Qh3,Qe8,Qf3,Kc7,Rh5,Qa4,Qd1,Qxa2,Rh7,Bf8,Qc1,Kd7,Kf3,Qb3,Kg4,bxc3,Bxc3,a4,Qd2,Qb6,Rd1,Qc5,d6,Kc6,dxe7,Bxe7,Qd7+,Kb6,Rxe7,Rd8,Qa7+,Kb5,Rc7', 'Qxa7,Rxa7,Rxd1', 'https://lichess.org/training/MC39o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mc3af', 'Classical', 'maxivgc', 1830, 'TarenOP', 1841, 'c4,Nf6,Nf3,c5,g3,b6,Bg2,Bb7,Nc3,e6,d4,cxd4,Qxd4,Bc5,Qd1,O-O,O-O,Na6,Bf4,h6,Re1,Rc8,e4,Ng4,Re2,Bxf2+,Rxf2,Nxf2,Kxf2,Rxc4,Bd6,Re8,Ne5,Rc8,Qh5,Nc5,Qxf7+,Kh7,Qg6+,Kg8,Rf1,Qf6+,Qxf6,gxf6,Bxc5,fxe5,Bd6,Ba6,Rd1,Kh7,Bxe5,Rf8+,Ke3,Rf7,Bd6,Rg8,b4,Bc4,Kd4,b5,a4,a6,axb5,axb5,Kc5,Rf2,Bh1,Rc8+,Kb6,Bb3,Rd3,Rxh2,Nxb5,Bc2,Rc3,Rxc3,Nxc3,Rxh1,e5,Rc1,Ne2,Re1,Nf4,Re3,Nh5,Bg6,Nf6+,Kg7,g4,Rg3,Kc7,Bd3', 'Nh5+,Kg6,Nxg3', 'https://lichess.org/training/mc3af');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mc8jh', 'Blitz', 'Strottel', 2230, 'KingPeel', 2267, 'e4,c6,d4,Na6,Bd3,d5,e5,Nc7,f4,g6,Nf3,Bg4,O-O,e6,c3,Bxf3,Qxf3,Bg7,Nd2,h5,Qf2,Nh6,h3,Qe7,Nf3,Nf5,b4,Nb5,Bd2,Na3,Be1,Bh6,Nd2,b5,g4,hxg4,hxg4,Ng7,g5,Bxg5,fxg5,Qxg5+,Qg2,Qe3+,Qf2,Qxd3,Qxf7+,Kd8,Qxg7,Qe3+,Bf2', 'Qg5+,Bg3,Qxg3#', 'https://lichess.org/training/Mc8jh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mCAwI', 'Blitz', 'Anti-Kaspa', 1793, 'Farrokhseresht', 1769, 'e4,c6,d4,d5,Nc3,e6,Nf3,Bb4,exd5,exd5,Bd3,Qe7+,Be3,Bg4,O-O,Nf6,Re1,Bxc3,bxc3,Ne4,c4,O-O,cxd5,cxd5,c4,Qf6,cxd5,Bxf3,gxf3,Ng5,Bxg5,Qxg5+,Kh1,Nd7,Qb3,Nb6,Re5,Qf4,Be4,f5,d6+,Kh8,Bxb7,Qxd4,Qe6,Rab8,Rae1,Rxb7,Rxf5,Rg8', 'Qxg8+,Kxg8,Re8#', 'https://lichess.org/training/mCAwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcAzh', 'Rapid', 'Chrisvin', 1648, 'tvq', 1746, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,Bxf7+,Ke7,Qh5,Qxh5,Bxh5,Nxc2+,Ke2,Nxa1,d4,Nc2,Nf7,g6,Kd3,Nb4+,Kc3,Nc6,Nxh8,gxh5,Bg5+,Ke6,d5+,Ke5,dxc6,Ke6,cxd7,Bxd7,Rd1,Bg7+,Kc4,Bxh8,Nc3,Bxc3,bxc3,h6,Bh4,Rf8,f3,Rf4,Bg3,Rf7,Rd5,Nf6,Re5+,Kd6,Rxh5+,Ke6,Re5+,Kd6,Rd5+,Kc6', 'Rc5+,Kb6,Bxc7+,Ka6,Ra5#', 'https://lichess.org/training/mcAzh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcc7q', 'Rapid', 'cali2back131', 1665, 'Stefanojack2', 1631, 'Nf3,Nf6,d4,d5,Bf4,Bg4,Ne5,Nc6,Nxg4,Nxg4,e3,e5,dxe5,Ncxe5,h3,Qh4,g3,Qh5,Bxe5,Qxe5,hxg4,Qxb2,Nd2,O-O-O,Qb1,Qc3,Bd3,Bb4,Qd1,d4,Rb1,dxe3,fxe3,h5,Rb3,Qc5,Qe2,g6,a3,Bxa3,Qf3,Bb4,c3,Rxd3,Rxb4', 'Rxe3+,Qxe3,Qxe3+', 'https://lichess.org/training/mcc7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcCAE', 'Rapid', 'Orion_B', 1797, 'Ayman_Farag', 1784, 'e4,e5,Nf3,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,e4,Nd4,Ngf6,Nc3,Bc5,Nb3,Bb6,d3,O-O,dxe4,dxe4,Bg5,h6,Bh4,Qe8,Qd6,e3,fxe3,Bxe3+,Kh1,Ng4,Nd5,Rd8,Nxe3,Nxe3,Be7,Nxf1,Rxf1,Nb6,Bxd8,Qxd8,Qxd8,Rxd8,h3,Nc4,Nc5,b6,Nd3,Ne3,Rf2,h5,b3,g5,a4,g4,hxg4,Nxg4,Rf5,Ne3,Rxh5,Nxc2,Ne5,Rd5,Rg5+,Kf8', 'Ng6+,fxg6,Rxd5', 'https://lichess.org/training/mcCAE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcect', 'Blitz', 'Macfrag', 1952, 'dimych', 1933, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Be2,Bg4,O-O,Nc6,Nc3,e6,Bg5,Be7,Ne5,Bxe2,Qxe2,O-O,Rad1,h6,Bf4,Nxe5,Bxe5,Nd7,Nb5,Nxe5,Qxe5,a6,Nc3,b5,Ne2,Rc8,c3,a5,a4,bxa4,Ra1,Qb6,Rfb1,Qc6,f4,Qc4,Ng3,a3,bxa3,Qxc3,f5,Bf6,Qd6,Bxd4+,Kh1,Qxa1,Rxa1,Bxa1,h3,exf5,Nxf5,Rc1+,Kh2,Re1,Qxd5,Be5+,g3,Re2+,Kg1,Rb8,Qd3,Rbb2', 'Ne7+,Kh8,Qd8+,Kh7,Qg8#', 'https://lichess.org/training/mcect');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mCF4R', 'Blitz', 'FM sanroto', 2293, 'Figo13', 2409, 'd4,Nf6,Nf3,e6,c4,Bb4+,Nc3,b6,Bd2,Bb7,e3,O-O,Be2,Bxc3,Bxc3,Ne4,O-O,f5,Nd2,Qh4,f3,Nxc3,bxc3,d6,Qe1,Qxe1,Rfxe1,Nc6,c5,dxc5,dxc5,Rfd8,Nb3,Kf7,Red1,Kf6,a4,e5,a5,Rxd1+,Bxd1,Rd8,Be2,Rb8,Bb5,Ke7,cxb6,cxb6,axb6,axb6,Nd2,Na5,Rb1,Bd5,c4,Be6,Rb4,Kd6,Ba4,Nc6,Rb2,Na5,Rb4,h6,Kf2,Kc7,Rb5,Bd7,Rb4,Bxa4,Rxa4,Kc6,Ke2,Rd8,Ra3', 'Rxd2+,Kxd2,Nxc4+,Kd3,Nxa3', 'https://lichess.org/training/mCF4R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MCFq3', 'Blitz', 'bojanmilojkovic77', 1796, 'Mehdijoodi', 1693, 'd4,d5,c4,Nf6,Nc3,e6,Bf4,Bb4,c5,Ne4,Rc1,Nc6,e3,O-O,Bd3,Nxc3,bxc3,Ba5,Rb1,b6,cxb6,Bxb6,Qc2,f5,Ne2,Ne7,h3,Bb7,O-O,c5,dxc5,Bxc5,Rxb7,Ng6,Bg3,Bd6,Bxd6,Qxd6,Rfb1,e5,Bxf5,Qf6,Ng3,e4,Bxg6,hxg6,R1b5,Rac8,Rb3,d4,exd4,Rfd8,Nxe4,Qf4,f3,Rxd4,Rxa7,Qe3+,Kf1,Rd3,Raa3,Rcd8,Rb1,Qf4,Qb3+,Kh7,Kf2,Qh4+,Ke2,Qf4,Rb2', 'Qe3+,Kf1,Rd1+,Qxd1,Rxd1#', 'https://lichess.org/training/MCFq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcGN9', 'Rapid', 'SpielerXY', 2098, 'RafShen', 2121, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nc6,Qd2,Nf6,f3,Nxd4,Bxd4,a6,O-O-O,Be6,Kb1,b5,g4,Qa5,g5,b4,Nd5,Nxd5,exd5,Bxd5,b3,Bxd4', 'Qxd4,Kd7,Qxd5,Qxd5,Rxd5', 'https://lichess.org/training/mcGN9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MChlQ', 'Rapid', 'me_unsolicited', 1698, 'Camiveg1', 1735, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,Nc3,Be7,Be3,c5,Qd3,O-O,Rad1,Qc6,h3,Nd7,Nd5,Bd8,c4,Ne5,Qc3,h6,Rfe1,Re8,Bf4,Re6,Re2,Kf8,Rde1,g5,Bg3,h5,f3,h4,Bh2,Qa6,Bxe5,Rxe5,a3,Qc6,b4,b6,b5,Qd7,Qe3,Qe6,Kh1,a6,a4,axb5,axb5,Ra4,Qb3,Ra7,Ra2,Rxa2,Qxa2,Qd7,Qa8,Kg7,Qc6,Qe6,Ra1,Qe8,Ra8,f5,Nxb6', 'Qxc6,bxc6,Bxb6', 'https://lichess.org/training/MChlQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mCiCp', 'Classical', 'ChanJR', 1663, 'daniel01010101', 1776, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Qf3,Nb4,Bc4,e6,Qe4,Bd6,a3', 'f5,Qe2,Nxc2+', 'https://lichess.org/training/mCiCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mciHp', 'Blitz', 'mini_nakamura', 2100, 'Universalsoldier', 2127, 'd4,c6,c4,d5,Nc3,Nf6,cxd5,cxd5,g3,Nc6,Bg2,a6,Nf3,g6,Bg5,Bg7,Qd2,O-O,Bh6,b5,Bxg7,Kxg7,a3,Bf5,O-O,Rc8,Rac1,Ne4,Nxe4,Bxe4,Rc3,Na5,Rfc1,Nc4,Qf4,Qd7,Ne5,Nxe5,Qxe5+,f6,Qf4,Bxg2,Kxg2,Rxc3,Rxc3,Rc8,e4,Rxc3,bxc3,e6,e5,Qf7,h4,h6,exf6+,Qxf6,Qc7+,Qf7,Qc6,Qf5,Qxa6,Qe4+,Kh2,Qf3,Qxe6,Qxf2+,Kh1,Qf1+,Kh2,Qf2+,Kh3,Qf1+,Kg4', 'h5+,Kg5,Qc1+,Qe3,Qxe3#', 'https://lichess.org/training/mciHp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcIVj', 'Blitz', 'Golden157', 1594, 'VincentBryanParagas', 2062, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,h4,c5,h5,Nc6,e3,cxd4,exd4,Bb4,h6,g6,Bg5,Qd6,Bxf6,Qxf6,Nf3,Be6,Bb5,O-O,Bd3,Bg4,O-O,Nxd4,Nxd5,Qd6,Be4,Nxf3+,gxf3,Bh5,Qb3,a5,Rad1,Qe5,a3,Qg5+,Kh2,Qh4+,Kg2,Qg5+,Kh3,Bd6,Rg1,Qxh6', 'Nf6+,Kh8,Rxd6,Bxf3+,Kg3', 'https://lichess.org/training/mcIVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MCiYH', 'Rapid', 'Bereketg', 1884, 'Dimitrovgrigor', 1972, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Ne7,Nh4,c5,Nxf5,Nxf5,c3,cxd4,cxd4,Nc6,Be3,Nxe3,fxe3,Qh4+,g3,Qe4,Rf1,Qxe3,Nc3,Qxd4,Qb3,Bb4,Rf4,Bxc3+,bxc3,Qb6,Qc2,O-O,Rb1,Qg1+,Kd2,Qxh2', 'Rh4,Qxh4,gxh4', 'https://lichess.org/training/MCiYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcJ9V', 'Rapid', 'robertkarl', 1709, 'omegasas555', 2045, 'e4,e5,Bc4,c6,a3,d5,exd5,cxd5,Ba2,Nf6,h3,Nc6,c3,Bc5,b4,Bb6,d3,Bf5,Ne2,e4,d4,O-O,Be3,h6,Nd2,Qd7,Rc1,a5,Bb1,axb4,axb4,Be6,Nb3,Nh5,Nf4,Nxf4,Bxf4,Qe7,Nc5,Bxc5,bxc5,Qf6,Bd6,Rfe8,Qh5,Ne7,Be5,Qg6,Qxg6,Nxg6,Bd6,Ra3,O-O,Rd8,f3,f5,Kh2,Rd7,fxe4,fxe4,Rf2,b6,Ra2,Rb3,Ra8+,Kh7,Ba2,Rb2,c4,Nh4,cxd5,Rxg2+,Kh1,Bxh3,Bb1,Re2,Re8,Bg2+,Kh2,Nf5,Rc2,Rxc2,Bxc2,Nxd6,cxd6,Bf3,Bxe4+,Bxe4,Rxe4,Rxd6,Re5,Kg6,Kg3,Kf6,Kf4,b5,Re8,Rxd5,Ke4,Rg5,Rf8+,Ke7,Rb8,h5,d5,h4,Rxb5,Kd6,Rb6+,Kc5,Rc6+,Kb5,Rc2,h3,d6,Rg4+,Ke5,Rg1,d7,Rd1,Ke6,g5,Ke7,g4,d8=Q', 'Rxd8,Kxd8,g3', 'https://lichess.org/training/mcJ9V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('McLXI', 'Rapid', 'Zisimos', 1604, 'intricatemind', 1699, 'e4,c5,Nf3,d6,d4,Nc6,d5,Ne5,Nxe5,dxe5,Nc3,e6,Bb5+,Bd7,dxe6,Bxb5,Qxd8+,Rxd8,Nxb5,fxe6,Nxa7,Nf6,f3,Bd6,Nb5,O-O,Nxd6,Rxd6,O-O,Nd7,a4,Nb6,b3,Rfd8,Be3,Nd7,a5,Ra8,f4,exf4,Bxf4,Rc6,Rfd1,Nf6,Rd6,Rxd6,Bxd6,Nxe4,h3,b6,Bc7,bxa5,Rxa5,Rf8,Kh2,Rf2,c4,Nd2,Bg3', 'Nf3+,Kh1,Rf1#', 'https://lichess.org/training/McLXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('McmyA', 'Rapid', 'JoseTedesco', 1835, 'Ux12345', 1722, 'Nf3,e6,d4,d5,c4,Bb4+,Nc3,Nc6,a3,Be7,Bf4,dxc4,e3,Na5,Qa4+,Nc6,Nb5,Bd6,Nxd6+,cxd6,Bxc4,a6,d5,b5', 'Bxb5,axb5,Qxa8', 'https://lichess.org/training/McmyA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcN3i', 'Rapid', 'nsferraz', 1643, 'ANDREY_MOROZ', 1656, 'e4,c5,Bc4,Nc6,a3,e6,Nf3,d5,exd5,exd5,Ba2,Bg4,h3,Bh5,d3,Nd4,Nbd2,Qe7+,Kf1,Nxf3,Nxf3,Nf6,Bg5,Bxf3,Qxf3,O-O-O,Bxf6,gxf6,Bxd5,Qe5,Bxb7+,Kb8,Ba6,Qxb2,Ke2,Qxc2+,Kf1,Qb2,Re1,Bd6,g3,Rhe8,Rxe8,Rxe8,Kg2,Re7,a4,Qb6,Bc4,Be5,h4,Qb7,Bd5,Qc7,Rb1+,Kc8,Rb7,Qd6,Qg4+,Kd8,Rxe7', 'Qxd5+,Kg1,Kxe7', 'https://lichess.org/training/mcN3i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MCnIZ', 'Blitz', 'Achenebbisj', 1742, 'Iroias', 1722, 'd4,g6,Bf4,Bg7,e3,d6,Nf3,Bg4,Nbd2,Bxf3,Nxf3,Nd7,Bd3,Qb8,c4,e5,dxe5,dxe5,Bg5,f6,Bh4,Ne7,Qb3,Nc5,Qc2,Nxd3+,Qxd3,O-O,O-O,c5,Rfd1,Nf5,Bg3,Nxg3,hxg3,Rd8,Qe4,f5,Qc2,Rxd1+,Rxd1,Qc7,Rd5,e4,Ng5,Bf6,Ne6,Qe7,Nxc5,Rc8,Nb3,Qb4,g4,Rxc4,Qe2,Rc6,gxf5,g5,Qh5,Qe1+,Kh2,Rc8,Rd7,Be5+,Kh3', 'Qh1+,Kg4,Qxg2#', 'https://lichess.org/training/MCnIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MCNjd', 'Rapid', 'Karpov1986', 1997, 'dkobra', 2261, 'e4,e5,f4,exf4,Nf3,g5,d4,Bg7,Bc4,h6,O-O,Ne7,Nc3,O-O,h4,Ng6,h5,Ne7,Ne5,d6,Ng6,Re8,Bxf4,gxf4,Rxf4,d5,Nxe7+,Qxe7,Nxd5,Qg5,Qf3,Bxd4+,Kh1,Be6,Rf1,Bg7,Nf6+,Bxf6,Bxe6,Rxe6,Rg4,Nc6,Rxg5+,hxg5,Qg3,Rc8', 'Rxf6,Rxf6,Qxg5+,Rg6,hxg6', 'https://lichess.org/training/MCNjd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MCoV5', 'Rapid', 'Mytika', 1829, 'PinoRiver', 1952, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,d6,Re1,Bg4,h3,Bxf3,Qxf3,Be7,Nd2,Ne5,Qb3,Nxc4,Qxc4,O-O,Qxd4,c5,Qd3,Re8,Nf1,h6,Bd2,Bf8,Ng3,a6,Nf5,b5,Re2,c4,Qf3,d5,e5,Ne4,Qg4,Nxd2', 'Nxh6+,Kh7,Nxf7', 'https://lichess.org/training/MCoV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcPEL', 'Classical', 'Vsramdase', 1757, 'Lucalorenzo', 1782, 'e4,e5,Qf3,Qf6,Bc4,Nc6,c3,Qxf3,Nxf3,Nf6,O-O,Be7,d3,d6,Re1,Na5,Na3,Nxc4,Nxc4,d5,Ncxe5,Bg4,exd5,Bxf3,Nxf3,Nxd5,c4,Nb4,Re2,Nxd3,Bg5,f6,Bh4,Rd8,a3,Kf7,b4,Nf4,Re3,Ng6,Rae1,Rhe8,g4,Nxh4,Nxh4,g6,f4,f5,gxf5', 'Bxh4,fxg6+,hxg6,Rxe8,Rxe8,Rxe8,Kxe8', 'https://lichess.org/training/mcPEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mCQ2y', 'Rapid', 'vladimir09', 1867, 'FunnyChess00', 1759, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d3,Bc5,Be2,h6,O-O,a6,Nxe5,Nxe5,d4,Bd6,dxe5,Bxe5,f4,Bd6,e5,Bc5+,Kh1,Nh7,Bd3,Ng5,fxg5,hxg5,Qf3,g4,Qxg4,d5,Qxg7', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/mCQ2y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MCRvw', 'Rapid', 'Methuselah969', 1652, 'Ostion2019', 1656, 'd4,d5,c4,c6,Nc3,Nf6,e3,Nbd7,cxd5,Nxd5,Bc4,Nxc3,bxc3,Nf6,Qb3,e6,Nf3,Bd6,O-O,b5,Be2,O-O,Bb2,Ne4,Bd3,Nf6,c4,bxc4,Qxc4,Bd7,Rad1,Nd5,a3,Qa5,a4,Rab8,Bc1,Rb4,Bd2,Rxc4,Bxa5,Rxa4,Bd2,Bb4,Ne5,Be8,e4,Ne7,Bxb4,Rxb4,Ra1,f6,Nf3,Nc8,Rfc1,Rf7,d5,exd5,exd5,c5,Rxc5,Rd7,Rxc8,Kf7,h3,Rxd5,Rxa7+,Kf8,Bc4,Rd1+,Kh2,Rc1,Be6,Rxc8,Bxc8,Bc6,g4,Bxf3,Bf5,Rb7,Ra8+,Ke7,Rh8,h6,Kg3,Bd1,Rh7,Kd6,Rh8,Bb3,Rd8+,Ke7,Rd3,Bc2', 'Re3+,Kf7,Bxc2', 'https://lichess.org/training/MCRvw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcs4o', 'Rapid', 'tash01', 1701, 'hemmati33', 1697, 'd4,d5,Bf4,Nc6,e3,Nf6,c3,Bf5,Bb5,e6,Nd2,Bd6,Bg3,Bxg3,hxg3,O-O,Ngf3,Qd6,Ba4,a6,Bc2,Ne7,Ne5,c5,f4,cxd4,exd4,Bxc2,Qxc2,Rfd8,Kf2,Rac8,Kf3,Nf5,g4', 'Nxd4+,cxd4,Rxc2', 'https://lichess.org/training/mcs4o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MCT3U', 'Blitz', 'lennienator', 1880, 'Amey9969', 1895, 'e4,c5,Nf3,e6,c3,d6,d4,cxd4,cxd4,Be7,Nc3,Nf6,g3,O-O,Bg2,b6,O-O,Bb7,d5,Nbd7,Be3,e5,Bh3,Nc5,Bxc5,bxc5,Nh4,Qa5,f4,exf4,Rxf4,Rac8,Nf5,Rce8,Nxe7+,Rxe7,Rxf6,gxf6,Bf5,Re5,Qh5,Rxf5,Qxf5,Qb4,Rb1,Qd4+,Kh1,Qe5,Qxe5,fxe5,Nb5,Ba6,Nxd6,Bd3,Re1,Rd8,Nf5,f6,Kg2,Kf7,Kf3,Kg6,Rd1,c4,d6,h5,b3,Kf7,bxc4,Bxc4,d7,Be6,Nd6+,Ke7,Nb7', 'Bg4+,Kg2,Bxd1,Nxd8,Kxd8', 'https://lichess.org/training/MCT3U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('McTnJ', 'Blitz', 'BeefFly', 1585, 'Melogien', 1721, 'e4,c5,Nf3,d6,Bc4,h6,d4,cxd4,Nxd4,e5,Qf3,Nf6,Nf5,a6,O-O,Be6,Nd2,Bxf5,exf5,Nc6,Re1,Be7,Ne4,O-O,Nxf6+,Bxf6,Qg4,Kh8,Re3,Nd4,Rh3,Kh7,Bxh6,gxh6,Bxf7,Rxf7,Qg6+,Kh8', 'Rxh6+,Rh7,Qxh7#', 'https://lichess.org/training/McTnJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MCTYi', 'Blitz', 'NicoleGT', 1768, 'evany28', 1749, 'd4,d5,Nf3,Bf5,e3,c6,c4,e6,Qb3,Qb6,Nc3,Qxb3,axb3,Bb4,Be2,Nf6,O-O,Nbd7,h3,O-O,Bd2,Bxc3,Bxc3,a6,Ne5,Nxe5,dxe5,Nd7,f4,Nc5,b4,Ne4,b5,axb5,cxb5,Ng3,Rxa8,Rxa8,Re1,Nxe2+,Rxe2,Bd3,Re1,Bxb5,Kf2,h5,e4,Ra4,b4,Ra3,Bd4,Rb3,Bc5,Rb2+,Kg3,dxe4,Rxe4,Bf1,Kh4,Bxg2,Rd4,g6,Kg5,Kg7,Rd8,Bxh3,Be7,Rg2+,Kh4,Bf5', 'Bf6+,Kh7,Rh8#', 'https://lichess.org/training/MCTYi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mCw2i', 'Rapid', 'Rappi93', 1783, 'Skyhook59', 1768, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,Bd3,Bb7,O-O,Qc7,Bd2,Bd6,g3,Nc6,Nxc6,dxc6,Qf3,Ne7,Ne2,Ng6,Bc3,O-O,Rad1,c5,b3,c4,bxc4,bxc4,Bxc4,Bxg3,fxg3,Qxc4,Rd7,Bxe4,Qf2,Qc6,Rxf7,Rxf7', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/mCw2i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcwDU', 'Rapid', 'Marben', 1765, 'sergetk', 1724, 'd4,g6,e4,d6,Bc4,e6,Bf4,Bg7,Nf3,Nf6,O-O,Nxe4,Nbd2,Nf6,Nb3,a6,d5,O-O,dxe6,Bxe6,Bxe6,fxe6,Ng5,Qe7,Re1,e5,Qd3,Nc6,Qc4+,Kh8,Re2,h6,Nf3,Qf7,Qxf7,Rxf7,Bg3,Raf8,Rae1,Nd5,c4,Nf4,Rd2,Nxg2,Kxg2,Rxf3,c5,R3f6,cxd6,cxd6,Red1,Rd8,Bh4,g5,Bg3,h5,h4,Bh6,Rd3,Nb4', 'Bxe5,dxe5,Rxd8+', 'https://lichess.org/training/mcwDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mCwgh', 'Blitz', 'fponym', 1635, 'Yashwan58', 1643, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bg5,Be7,O-O-O,h6,Bh4,Bg4,f3,Be6,Bg3,O-O,Bc4,Bxc4,Qxc4,Nd7,Nd5,c6,Nf4,Bg5,h4,Be7,Nh5,Nf6,Nxf6+,Bxf6,Rxd6,Qe7,Rhd1,Bxh4,Bxh4,Qxh4,Rd7,Rab8,b3,Qg5+,Kb2,Qxg2,f4,Qg6,f5,Qf6+,Ka3,Rfc8,Qc5,b6,Qc4,c5,R1d6,Qa1,Qxf7+,Kh8,f6', 'Qc1+,Ka4,b5+,Ka5,Qa3#', 'https://lichess.org/training/mCwgh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('McWGo', 'Bullet', 'GM grizzlybear79', 3001, 'GM AnishGiri', 3035, 'Nf3,c5,c4,g6,g3,Bg7,Bg2,Nc6,O-O,Nf6,Nc3,d6,d4,cxd4,Nxd4,Bd7,b3,h5,e3,h4,Bb2,h3,Bh1,O-O,Re1,Rc8,Qd2,a6,Rac1,Re8,Nd5,Nxd5,Bxd5,Ne5,f4,Ng4,Bxb7,Rb8,Bf3,Qb6,Qe2,Nf6,Nc2,e5,fxe5,dxe5,Qf2,Ng4,Bxg4,Bxg4,e4,Qc6,Ne3,Qxe4,Nxg4,Qxg4,Rcd1,e4,Bxg7,Kxg7,Rd4,Re7,Qf4,Qxf4,gxf4,Rbe8,Re3,f5,Kf2,g5,fxg5,Kg6,Rxh3,Kxg5,Rg3+,Kf4,c5,Rh8,h3,Reh7,c6,Rxh3', 'Rxh3,Rxh3,c7,Rh8,Rd8', 'https://lichess.org/training/McWGo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mcxfg', 'Rapid', 'Demarshal', 1739, 'Alexander88889', 1715, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bd7,d4,exd4,Nxd4,Nf6,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Be7,b4,O-O,f3,Rb8,a3,Nd7,Be3,Bf6,Qd3,Ne5,Qe2,Nxf3+,Qxf3,Bxc3,Rad1,a6,Qg3,Be5,Qg4,Qc8,Qh5,Qe6,Rf3,Qg6,Qh4,f5,Rdf1,fxe4,Rxf8+,Rxf8,Rxf8+,Kxf8,Qd8+,Qe8,Qxc7,h6,c4,d5,Bc5+,Kg8,Bd6,Bxd6,Qxd6,e3,Kf1,e2+,Ke1,dxc4,Qd2,g5,Qxe2,Qxe2+,Kxe2,Kf7,Ke3,Ke6,Kd4,Kd6,Kxc4,g4,h3,h5,hxg4,hxg4,g3,Ke5,Kd3,Kd5,Kc3', 'Ke4,Kc4,Kf3', 'https://lichess.org/training/Mcxfg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mcxLv', 'Blitz', 'FM FourEuro', 2333, 'level_86', 2355, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,g4,h6,Be3,Nc6,Bg2,a6,Nxc6,bxc6,e5,Nd5,exd6,Bxd6,Ne4,Be7,Bd4,O-O,O-O,Qc7,Qf3,c5,Be3,Bb7,Bd2,Rfd8,Rad1,Nf6,Nxf6+,Bxf6,Qxb7,Qxb7,Bxb7,Rab8,Bxa6,Rxb2,Be3,Rxa2,Rxd8+,Bxd8,Rd1,Bf6,Bd3,c4,Be4,g5,Bd4,Kg7,Bxf6+,Kxf6,Rd4,Ra4,Bd3,Ra1+,Bf1,c3,Rc4,Ra3,Kg2,Ke5,Kf3,f5,h3,Kd5,Ke3,Ra1,Be2,Rh1,Rxc3,Rxh3+,Kd2,Rh2,gxf5,Ke5,fxe6,Kxe6,Rf3,Ke5,c4,g4,Re3+,Kf4,Bxg4,Kxg4,Rg3+,Kf4,c5', 'Rxf2+,Kc3,Kxg3', 'https://lichess.org/training/mcxLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mCY0s', 'Blitz', 'Potuh', 2366, 'qwaqwa', 2030, 'd4,c5,d5,d6,c4,e5,Nc3,f5,e4,Nf6,Bd3,fxe4,Nxe4,Be7,Nxf6+,Bxf6,f4,O-O,fxe5,Bxe5,Nf3,Rxf3,Qxf3,Qh4+,g3,Qd4,Rf1,Bf6,Bg5,Bg4,Bxf6,gxf6,Qxf6', 'Qe3+,Be2,Qxe2#', 'https://lichess.org/training/mCY0s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mCYcd', 'Rapid', 'mikehammerhead', 1690, 'viejoalpinista', 1630, 'e4,c5,Bc4,d6,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Nxc6,bxc6,e5,Nh5,exd6,Qxd6,Qf3,Be6,Ne4,Qe5,Bxe6,Qxe6,O-O,Bg7,c3,Nf6,Re1,Qd5', 'Nxf6+,Bxf6,Qxf6', 'https://lichess.org/training/mCYcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('McYXC', 'Rapid', 'jherni_vasquez-1', 1942, 'jorge2381', 2156, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Nf3,Be7,Bf4,O-O,cxd5,Nxd5,Nxd5,Qxd5,Be2,a6,O-O,b5,Ne5,Qd8,Rc1,Bb7,Bf3,Bd5,b3,Bf6,Ng4,Nd7,Bxd5,exd5,Re1,Re8,Rxe8+,Qxe8,Nxf6+,Nxf6,Be5,Nd7,f4,f6,Bd6,Qe3+,Kh1,Re8,g3,Qf2,Qf1,Qxd4,Qg2,f5,h4,Nf6,Be5,Qe3,Rd1,Ne4,Kh2,Rc8', 'Bd4,Qxg3+,Qxg3,Nxg3,Kxg3', 'https://lichess.org/training/McYXC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MczyH', 'Rapid', 'gorgo-51', 1684, 'albundybaby', 1682, 'e4,c5,Nf3,Nc6,Nc3,g6,a3,Bg7,Be2,Nf6,d3,d6,h3,O-O,O-O,e6,Bg5,h6,Bh4,Qc7,Bg3,Qd8,Re1,d5,e5,Ne8,d4,cxd4,Nxd4,Bxe5', 'Nxc6,bxc6,Bxe5', 'https://lichess.org/training/MczyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mD0DN', 'Blitz', 'LuenoOne', 1971, 'MrTreeHugger', 1997, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,Nf6,O-O,Bc5,Bxc6,dxc6,Nxe5,fxe4,Be3,Bxe3,fxe3,exd3,cxd3,O-O,Nc3,Nd5,Qd2,Be6,e4,Nxc3,Qxc3,Qd6,a3,c5,Rf3,Rxf3,gxf3,Rf8,Rf1,Bh3,Rf2,Qe7,f4,Qh4,Qc4+,Kh8,f5,Qh5,Qxc5', 'Qd1+,Rf1,Qxf1#', 'https://lichess.org/training/mD0DN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('md3dE', 'Rapid', 'DoctorPearbear', 1740, 'Fd0101', 1731, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,c6,O-O,e6,d4,Nf6,Bd2,Bxf3,Bxf3,Qb6,Bg5,Be7,b3,Nbd7,Re1,h6,Bxf6,Nxf6,Ne2,O-O-O,c3,g5,h3,h5,g3,g4,hxg4,hxg4,Bg2,Bd6,c4,c5,d5,exd5,Bxd5,Nxd5,Qxd5,Qc7,Qf5+,Kb8,Qxg4,Rdg8,Qf3,f6,Rad1,f5,Qd5,Rd8,Qxf5,Rhf8,Qh3,Rd7,Rd3,Rdf7,Rf1,Qe7,f4,Qxe2,Rxd6,Qe3+,Kg2,Qe4+,Rf3,Qb1,Rd2', 'Rh7,Qxh7,Qxh7', 'https://lichess.org/training/md3dE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('md3Y5', 'Classical', 'Aravinth_Saavy', 1643, 'Quintus3', 1734, 'e4,e5,Nf3,Nc6,Nc3,Bc5,d3,h6,Nd5,Nf6,c3,Nxd5,exd5,Ne7,Nxe5,Nxd5,Qe2,Qe7,d4,Bd6,c4,Nf6,Bf4,Bxe5,dxe5,Ng8,Qg4,g5,O-O-O,gxf4', 'Qg7,Qf8,Qxh8', 'https://lichess.org/training/md3Y5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mD61q', 'Blitz', 'rokeerboy96', 1785, 'sumansahoo16', 1777, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d6,h3,a6,a3,b5,Ba2,Nh5,Ng5,Ng3,Bxf7+,Ke7,Qf3,Nxf1,Kxf1,Rf8,Nxh7,Rxf7,Bg5+,Ke8,Qh5,Qd7,Nf6+,gxf6,Qh8+,Rf8,Qh5+,Rf7,Qh8+,Ke7,Nc3,fxg5', 'Nd5+,Ke6,Qh6+,Rf6,Qxf6#', 'https://lichess.org/training/mD61q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MD7uw', 'Rapid', 'tram', 1653, 'naser42', 1667, 'e3,b6,Qf3,c6,Qd1,Bb7,a4,a5,b3,c5,Na3,e6,Bb5,Qg5,f3', 'Qxg2,Qe2,Qxh1', 'https://lichess.org/training/MD7uw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mD84u', 'Classical', 'ChiefJab', 1728, 'LLLCCC', 1829, 'd4,d5,Bf4,e6,e3,a6,Nd2,Bd6,Bg3,Bxg3,hxg3,Nf6,Ngf3,h6,Bd3,b5,c3,Bb7,Kf1,Nbd7,a4,c6,Qc2,Nb6,axb5,axb5,Rxa8,Qxa8,Ke2,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Nd5,Bxd5,exd5,Ne5,f6,Nd7', 'Qe8+,Kf1,Qxd7', 'https://lichess.org/training/mD84u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mda90', 'Rapid', 'Hierophantc4', 2040, 'Blockheads', 2055, 'f4,g6,Nf3,Bg7,c3,Nf6,Qc2,O-O,e4,d5,e5,Bf5,d3,Nfd7,Be3,e6,Nd4,c5,Nxf5,exf5,d4,c4,Be2,Re8,Nd2,f6,Nf3,fxe5,dxe5,Nc6,O-O,Nb6,Rfd1,Ne7,Bc5,Qc7,Bd6,Qc6,Nd4,Qd7,Bf3,Nc6,Nb5,Nxe5,Bxd5+,Kh8,Bxe5,Bxe5,fxe5,Qxb5,Bxb7,Rab8,Bf3,Qxe5,Bc6', 'Qc5+,Qf2,Qxc6', 'https://lichess.org/training/mda90');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mdb5U', 'Classical', 'mleanza', 1606, 'Blackster84', 1694, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,d6,d4,Bg4,d5,Na5,Be2,Bd7,Bd2,Nf6,c4,c6,Nc3,b6,O-O,Nb7,b3,Nc5,Be3,Ncxe4,dxc6,Bxc6,Nxe4,Nxe4,Qc2,Be7,Rad1,O-O,Nxe5,Bb7,Bf3,f5,Ng6,Rf6,Nxe7+,Qxe7,Rd3,Rc8,Qb2,Ba6,Qa3,Qb7,Bxe4,fxe4,Rxd6,Rxd6,Qxd6,Qf7,Rd1,Re8,c5,Re6,Qd5,Bb7,Qc4,Qf6,c6,Bxc6,Bd4,Qg6,Bc3,Kh7,Re1', 'e3,f3,Bxf3', 'https://lichess.org/training/Mdb5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mdbma', 'Rapid', 'SousMaitreFide', 2142, 'suling', 2024, 'e4,e5,Nf3,d6,Bc4,Be7,h3,Nf6,d3,O-O,Nc3,c6,Be3,b5,Qd2,bxc4,dxc4,Be6,b3,Qc7,O-O,Rd8,Rad1,Na6,Ng5,Bc8,f4,h6,Nf3,Bb7,Qf2,c5,Nd5,Nxd5,cxd5,Qd7,c4,f6,Qg3,Qe8,fxe5,fxe5,Bxh6,Bf6,Ng5,Qg6,Qg4,Nc7,Bxg7,Bxg7,Rf7,Bc8,Qg3,Ne8,Rdf1,Nf6,h4,Rf8,Rxf8+,Kxf8', 'Ne6+,Bxe6,Qxg6', 'https://lichess.org/training/Mdbma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MDcQb', 'Classical', 'Simuncro1', 1660, 'killer_b_aoc', 1679, 'd4,d5,c4,e6,e3,c5,cxd5,Nf6,Nc3,cxd4,Qxd4,exd5,Nf3,Nc6,Qd1,Bf5,Bb5,Bb4,O-O,a6,Ba4,Ne4,Nxd5,b5,Bb3,O-O,a3,Ba5,Ba2,Rc8,b4,Bc7,h3,Be5,Nxe5,Nxe5,Bb2,Nc4,Bxc4,Rxc4,f3,Ng3,Rf2,Be6,Nf4,Qg5,Rc1,Bxh3,Nxh3,Qxe3,Rxc4,bxc4,Bd4,Qxa3,Bc5,Re8,Kh2,Nf5,Re2,Qa4,Rxe8+,Qxe8,Qc1,Qe5+,Kg1,Ng3,Qe3,Qa1+,Kh2', 'Nf1+,Kg1,Nxe3+', 'https://lichess.org/training/MDcQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MDecn', 'Rapid', 'RJ9105', 1761, 'D10S', 1917, 'Nh3,d5,Nc3,Bxh3,gxh3,Nf6,Bg2,e6,b3,Bb4,Bb2,Nc6,e3,O-O,d4,e5,Qd2,exd4,exd4,Re8+,Kf1,Ne4,Bxe4,dxe4,Re1,Qxd4,Qxd4,Nxd4,Rxe4,Rxe4,Nxe4,Nxc2,Rg1,g6,Nf6+,Kf8,Nxh7+,Ke8,h4,Rd8,Nf6+,Ke7,Kg2,Ne1+,Kh3,Rd3+,Rg3,Rxg3+,hxg3,Nd3,Nd5+,Kd7,Nxb4,Nxb4,f4,Nxa2,g4,Nb4,h5,gxh5,gxh5,Nd3,h6,Nxf4+,Kh4,Ng6+,Kh5,Ke6,h7,a5,Kh6,Kf5,h8=Q,Nxh8,Bxh8,f6,Bg7,b5,Bf8,Ke6,Kg6,a4,bxa4,bxa4,Bb4,f5,Kg5,Ke5,Bc3+', 'Ke4,Bb4,f4', 'https://lichess.org/training/MDecn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdEDn', 'Rapid', 'mukg', 1660, 'jakirul101', 1638, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,g6,Bc4,Bg7,O-O,Nf6,Bg5,O-O,Qf3,Nbd7,Nc3,Ne5,Qe2,Nxc4,Qxc4,Re8,Ndb5,c6,Nd4,d5,exd5,cxd5,Nxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/MdEDn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mdfgP', 'Rapid', 'MohammedHassan1988', 2093, 'adam2247', 2101, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Be7,Be3,Nf6,Nxc6,bxc6,Bd3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,Bg5,h6,Bxf6,Bxf6,O-O,O-O,Rb1,Bxc3,bxc3,Qc6,Qd4,Rfc8,Rb3,Qc4,Qe5,Rc7,Rd1,Rac8,h3,Qa4,Rd3,Qxa2,Rg3,g6,Rb8,Qa1+,Kh2,Qa6', 'Qxc7,Rxb8,Qxb8+', 'https://lichess.org/training/mdfgP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MDgGq', 'Rapid', 'iran-c', 1706, 'Elyhane', 1621, 'e4,e5,Bc4,Nc6,d3,Bc5,a3,d6,h3,Nge7,Nf3,O-O,Bg5,Qe8,Nc3,h6,Bh4,Kh8,g4,f6,Qd2,Nd4,Nxd4,Bxd4,O-O-O,a6,Rdg1,b5,Ba2,c6,Ne2,Bc5,Ng3,a5,Nf5,Nxf5,gxf5,b4,a4,Bd4,Bb3,c5,Rg2,Bd7,Rhg1,Bxa4,Rxg7,Bxb3,cxb3,Qh5,Bxf6,Rxf6,R7g6,Rxg6,Rxg6,a4', 'Rxh6+,Qxh6,Qxh6+', 'https://lichess.org/training/MDgGq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdGlF', 'Rapid', 'Baratheonn', 1667, 'ssttach', 1649, 'e4,e5,Nf3,d5,Nxe5,dxe4,Qe2,Qe7,Qxe4,f6,Qa4+,Bd7,Qb3,Qxe5+,Be2,Bg4,f3,Be6,Qxb7,Bd5,Qb5+,Nc6,Nc3,Rb8', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/MdGlF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MDH7u', 'Rapid', 'xxx-Fight-Knight-xxx', 1804, 'stevenhan', 1708, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Nc6,Qc2,g6,Bf4,Bg7,Nf3,O-O,Nbd2,Nd7,h4,Nb6,h5,Re8,hxg6,hxg6,Bxg6,fxg6,Qxg6,Rf8,Rh7,Rf7,Be5,Bf5', 'Rxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/MDH7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mdjCB', 'Blitz', 'FM AchilleTalon', 2503, 'Gilles-USA', 2080, 'b3,Nf6,Bb2,g6,g3,Bg7,Bg2,O-O,Nf3,d5,c4,dxc4,bxc4,c6,O-O,Nbd7,d3,e5,Nbd2,Re8,Qc2,h6,Rfd1,Nh7,Ne4,Qe7,c5,Ndf8,Nd6,Rd8,Nxc8,Raxc8,e3,Ng5,Nxg5,Qxg5,Rab1,Rc7,Bc3,Rcd7,Bf1,f5,Qa4,a6,Ba5,Re8,Rd2,Kh7,Rdb2,Ree7,Rb6,Ne6,Qc4,Qf6,Bc3,Ng5,Be2,Qe6,Qxe6,Nxe6,Bb4,Ng5,Ba3,e4,d4,Ne6,Bc4,Nd8,d5,cxd5,c6,bxc6,Bxe7,dxc4,Bxd8,Rxd8,Rxc6,c3,Rb7,Rd2,Rcc7,c2,Rxg7+,Kh8,Rgc7,Rd1+,Kg2,c1=Q', 'Rb8+,Rd8,Rxd8#', 'https://lichess.org/training/mdjCB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MDJla', 'Rapid', 'zedofgod', 1629, 'Franjbr', 1621, 'e4,c5,Nf3,d6,d4,cxd4,c3,dxc3,Nxc3,Nf6,Bd3,a6,O-O,e6,Re1,Be7,e5,dxe5,Nxe5,O-O,Bg5,Nbd7,Qf3,Nxe5,Rxe5,h6,Bf4,Bd6,Re3,e5,Bxe5,Bxe5,Rxe5,Bg4,Qg3,Qd4,h4,Rad8,Re3,Nh5,Qe5', 'Qxe5,Rxe5,Rxd3', 'https://lichess.org/training/MDJla');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mdkiw', 'Blitz', 'BaldeSuper', 2250, 'IM Mitrabha', 2276, 'c4,b6,Nc3,Bb7,Nf3,e6,e3,c5,Be2,Nf6,O-O,Be7,d4,O-O,b3,d5,cxd5,exd5,Bb2,Nbd7,Rc1,Ne4,Nxe4,dxe4,Nd2,Rc8,Re1,Bd6,Bf1,Nf6,g3,Qe7,Bg2,Bb8,dxc5,bxc5,Nc4,Rfd8,Qc2,Rd3,Rcd1,Rcd8,Rxd3,exd3,Qc3,Bxg2,Kxg2,Qd7,Rd1,Qd5+,Kg1,h5,h4,Qe4,Ne5,Bxe5,Qxe5,Qf3,Rd2,Qg4,Kg2,Ne4', 'f3,Qxg3+,Qxg3,Nxg3,Kxg3', 'https://lichess.org/training/Mdkiw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mDKLL', 'Blitz', 'GringoStarr', 1601, 'Ringomorrison', 1503, 'e4,e5,Bc4,Nc6,Nf3,Nd4,Nxd4,exd4,O-O,Qf6,e5,Qh4,g3,Qh3,Be2,h5,d3,Nh6,Bxh5,g6,Bf3', 'Ng4,Re1,Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/mDKLL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdLDz', 'Rapid', 'LamkiZiaf', 2079, 'Dima_the_Physicist', 2094, 'e4,c5,Nf3,Nc6,Bb5,Nd4,Nxd4,cxd4,c3,a6,Bc4,b5,Bd5,Rb8,cxd4,e6,Bb3,Bb7,d3,Bb4+,Bd2,Qa5,O-O,Ne7,a3,Bxd2,Qxd2,Nc6,Nc3,Nxd4,Qd1,b4,Ne2,Nxb3,Qxb3,bxa3,Rxa3,Qd2,Nd4,O-O,Qc3,Qg5,f4,Qf6,f5,Rfc8,Qb4,Ba8,Qd6,Rxb2,fxe6', 'Qxf1+,Kxf1,Rc1#', 'https://lichess.org/training/MdLDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdlHF', 'Classical', 'Larguirucho', 1850, 'selaiman', 1715, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,Nf6,e5,d5,Bb5,Ne4,cxd4,Bb4+,Nbd2,O-O,a3,Ba5,O-O,Bg4,Bxc6,bxc6,b4,Bb6,Nb3,f5,Qd3,Qe8,Ng5,Nxg5,Bxg5,Qg6,Be7,Rfe8,Bc5,Rad8,f3,Bh5,g4,fxg4,Qxg6,Bxg6,fxg4,Bd3,Rf2,Re6,Re1,Rg6,h3,h5,Rf4,hxg4,Rxg4,Kf7,Rxg6,Bxg6,e6+,Kf6,e7,Re8,Rf1+,Bf5,h4,Bxc5,Nxc5,Rxe7,Rc1,g5,hxg5+,Kxg5,Kf2,Bd7,Rg1+,Kf5,Rg3,Bc8,Nd3,Ke4', 'Re3+,Kxd4,Rxe7', 'https://lichess.org/training/MdlHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MDlSc', 'Rapid', 'Aljechin91', 2226, 'Kuznitsov', 2205, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Qg4,Qc7,Qxg7,Rg8,Qxh7,cxd4,Kd1,Qxe5,Nf3,Qc7,cxd4,Nbc6,Bg5,Bd7,Bd3,O-O-O,Qh4,Rde8,Qf4,Qxf4,Bxf4,Rxg2,Bg3,Nf5,Bxf5,exf5,Nh4,Rxg3,hxg3,Nxd4,Re1', 'Rxe1+,Kxe1,Nxc2+,Kd2,Nxa1', 'https://lichess.org/training/MDlSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mdMb0', 'Blitz', 'mudd_chess', 1995, 'citronella', 2032, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,Nxd4,Bf6,Nxc6,bxc6,O-O,d6,Re1,Ne7,Qh5,O-O,Nc3,Ng6,Bd3,Ne5,Be3,Nxd3,cxd3,Rb8,Rab1,a5,d4,Re8,f4,Ba6,e5,Be7,b3,Bd3,Rbd1,Bg6,Qf3,Qd7,Rf1,Bf5,Qg3,Bf8,h3,Rb4,Qf3,d5,g4,Be4,Nxe4,dxe4,Qxe4,f6,Qc2,fxe5,fxe5,Qe6,Bc1,Rd8,Bb2,Rb5,Rf2,Rbd5,Rfd2,Qh6,Rd3,Qf4,Rf1,Qe4,Rdd1,Qe3+,Qf2,Qxh3', 'Qf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/mdMb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MDNh8', 'Rapid', 'passarell', 1864, 'Crotomitz', 1920, 'd4,Nf6,Nf3,d5,h3,e6,Bf4,c5,c3,Qb6,Qc2,Nc6,a3,cxd4,cxd4,Nxd4,Nxd4,Qxd4,e3,Qe4,Qb3,Bc5,Qb5+,Nd7,Nc3,Qg6,Bg3,O-O,Bd3,f5,O-O,a6,Qb3,Bxe3,fxe3,Qxg3,Rf3,Qe5,Raf1,Nc5,Qc2,Bd7,Be2,b5,b4,Ne4,Nxe4,dxe4,R3f2,Rac8,Qa2,Rc3,Qb2,Qc7,Bd1,Rxe3,Bb3,a5,Kh1,axb4,axb4,Qg3,Qa2,Rxb3,Rd2,Ra3,Qb2,Bc6,Re2,Bd5,Rfe1,Ra2,Qc1,Rxe2,Rxe2,f4,Qd2,e3,Qe1,f3,Qxg3,fxg2+,Kg1', 'Rf1+,Kh2,Rh1#', 'https://lichess.org/training/MDNh8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MDnvU', 'Rapid', 'Saeed_tz', 2052, 'Bojan-1996', 1996, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,Qe7,O-O,Nf6,cxd4,Bb4,e5,Ng8,a3,Ba5,b4,Bb6,d5,Nd8,Bg5,Qf8,Re1,h6,Bh4,g5,Bxg5,hxg5,Nxg5,Qh6,Nh3,Qg7,Qf3,Nh6,Nc3,Ng4,Ne4,Nxe5', 'Nf6+,Ke7,Rxe5+', 'https://lichess.org/training/MDnvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mDOC2', 'Rapid', 'patocojo', 1779, 'LeelaWannaBe', 1720, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nc6,Nf3,Nf6,Bd3,Bb4+,Nc3,O-O,O-O,a6,a3,Ba5,Bg5,h6,Bh4,d6,e5,dxe5,dxe5,Nxe5,Nxe5,Qd4,Nf3,Qf4,Bg3,Qg4,h3,Qh5,Qc2,b5,Ne4,Nxe4,Bxe4,Rb8,Nh2,e5,Bf3,Bf5,Qb3,Qg6,Bxe5,Rbc8,Bg3,Rfe8,Rfd1,Bc2,Qa2,Bxd1,Rxd1,Rc2,h4,Rd2,Rxd2,Bxd2,b4', 'Re1+,Nf1,Qd3', 'https://lichess.org/training/mDOC2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mDovg', 'Rapid', 'SadPeanut', 1839, 'a_queen11', 1841, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,Nxc6,O-O,Be7,d3,O-O,Qf3,Bd7,Ne4,h6,Nbc3', 'Nd4,Nxf6+,Bxf6', 'https://lichess.org/training/mDovg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mdphx', 'Blitz', 'v3n3no', 2026, 'ChessRiga', 2017, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,d5,Bb3,Be7,Nxe5,O-O,d4,c5,dxc5,Be6,c6,Nxc6,Nxc6,bxc6,c4,Bd6,cxd5,cxd5,Nd2,Nc5,Bc2,Rc8,Nf3,Qc7,Bd3,Nxd3,Qxd3,Qc4,Qxc4,Rxc4,Bd2,Rfc8,Rfc1,h6,Rxc4,Rxc4,Rc1,Rxc1+,Bxc1,Kf8,Bd2,a6,Nd4,Ke7,Nxe6,fxe6,Kf1,g6,Ke2,h5,Bc3,e5,h3,Ke6,Kf3,e4+,Ke2,Be5,Ke3,Kd6,Bd4,g5,f3,exf3,gxf3,Bf4+,Kd3,Kc6,a4,h4,b3,Kd6,Bf6,Kc5,Bc3,Bc1,b4+,Kd6,Kd4,Bf4,b5,axb5,axb5', 'Be5+,Kd3,Bxc3,Kxc3,Kc5,b6,Kxb6,Kd4,Kc6', 'https://lichess.org/training/Mdphx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MDpL2', 'Rapid', 'Abdurrahman94', 1600, 'Candarkhorse', 1710, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,c5,Ne2,cxd4,Nxd4,Bc5,Be3,O-O,O-O,Nc6,Nxc6,bxc6,Bxc5,Re8,Qxd8,Rxd8,Bxc6,Rb8,Bxa7,Rb4,Nc3,Rxb2,Na4,Rxc2,Bf3,Ba6,Rfd1,Rdc8,Nb6,Rf8,h3,Rc7,Nd5,Rxa7,Nxf6+,gxf6,Rd6,Kg7,a4,Rc8,a5,Rc5,Kh2,Bc8,a6,Rxa6,Rdxa6,Bxa6,Rxa6,f5,Ra2,Kf6,g4,Rc3,Kg2,f4,Be4,h6,h4,Ke5,Re2,Kd4,Bh7', 'f3+,Kf1,fxe2+', 'https://lichess.org/training/MDpL2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MDQAO', 'Blitz', 'OgzKingTR', 1666, 'gurgeng', 1662, 'e4,e6,d4,g6,Nf3,Bg7,Nc3,b6,Bc4,Bb7,O-O,c6,Re1,d5,exd5,cxd5,Bb5+,Nd7,Ne5,Bc8,Nxd5,Bxe5,Rxe5,a6,Bxd7+,Bxd7,Nc3,Ne7,d5,f6,Re1,e5,Ne4,Kf7,Nd6+,Kg7,Qd2,h5,Ne4,Bf5,c4,Rc8,b3,Bg4,f3,Bf5,Ng3,h4,Nxf5+,Nxf5,Bb2,Qd6,f4,exf4,Re6,Qc5+,Kh1', 'Ng3+,hxg3,hxg3#', 'https://lichess.org/training/MDQAO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdQqN', 'Blitz', 'snakeorsk', 1859, 'mmozkilic', 1860, 'e4,b6,d4,Bb7,e5,e6,f4,d6,Nf3,dxe5,fxe5,Bxf3,Qxf3,Nd7,Bb5,f6,Bxd7+,Kxd7,Nc3,Bb4,O-O,Bxc3,bxc3,Ke7,Ba3+,Kf7,c4,Nh6,d5,exd5,cxd5,Re8,e6+,Kg8,Rad1,Kh8,Rfe1,Ng8,Re4,Ne7,Rh4,Rc8,Qh5,h6,Qf7,Nf5,Rh3,Nd6,Bxd6,cxd6,Qg6,Qc7,Rg3,Rg8,c3,Qc4,Re1,Qxd5,Rh3,Rce8', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/MdQqN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdS7y', 'Blitz', 'FM Mazoetan', 2462, 'FM Mr65Mr65', 2257, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e4,d6,Be2,Na6,Bg5,h6,Bh4,e5,d5,Nc5,b4,Ncd7,Nd2,a5,a3,axb4,axb4,Rxa1,Qxa1,g5,Bg3,Nh7,Bg4,Ndf6,Bxc8,Qxc8,O-O,Nh5,Nd1,f5,exf5,Qxf5,Ne3,Qd3,Qd1,Nxg3,hxg3,e4,Nb3,Qxd1,Rxd1,Bc3,b5,b6,Nd4,Bxd4,Rxd4,Nf6,Nf5,Kh7,g4,Nxg4,Rxe4,Rxf5,Rxg4,Re5,Rd4,Kg6,g4,Re1+,Kg2,Kf6,Rd3,Re4,Rf3+,Ke5,Rf5+,Kd4,f3,Re2+,Kg3,Rc2,Rf6,Rxc4,Rxh6,Kxd5,Rg6,Kc5,Rxg5+,d5,Rf5,Kd6,g5,Rc1,Kg4,d4,Rf4,Kd5,Rf7,d3', 'Rd7+,Ke5,Rxd3', 'https://lichess.org/training/MdS7y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdsQc', 'Classical', 'Miinow', 1906, 'NaughtyElf', 1815, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,c5,Nbd2,cxd4,exd4,Bd6,Bg3,O-O,Bd3,Re8,Ne5,Nbd7,Ndf3,Qb6,Qc1,Ne4,c3,Ndf6,Ng5,Nxg5,Qxg5,Qxb2,O-O,Qxc3,Nxf7,Kxf7,Bxh7,Nxh7', 'Qh5+,Kg8,Qxe8+', 'https://lichess.org/training/MdsQc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdvKX', 'Blitz', 'TommyDuck', 2039, 'FM is_er_nog_hoop', 2370, 'e4,g6,d4,Bg7,Be3,d6,Nc3,a6,f3,b5,Qd2,Bb7,O-O-O,Nd7,g4,h6,h4,Ngf6,Bg2,Nb6,g5,hxg5,hxg5,Rxh1,gxf6,Rxg1,Rxg1,Bxf6,Rh1,Nc4,Qe2,Nxe3,Qxe3,e5,dxe5,dxe5,f4,exf4,Qxf4,Bg5', 'Rh8+,Kd7,Rxd8+', 'https://lichess.org/training/MdvKX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdvMX', 'Blitz', 'Hrishabh007', 1670, 'RoscatanerDiscodown', 2123, 'd4,Nf6,c4,g6,Nc3,Bg7,e3,O-O,Nf3,d6,Be2,b6,O-O,Bb7,b4,Nbd7,a3,Re8,h3,e5,d5,e4,Ng5,h6,Ncxe4,Nxe4,Nxe4,Bxa1,Bd3,Bg7,f3,Ne5,Bb1,Nxc4,Qc2,b5,Nc3,Nxe3,Bxe3,Rxe3,Nxb5,Ba6,a4,Bxb5,axb5,Qh4,Qxc7,Rae8,Be4,R8xe4,fxe4,Bd4', 'Qxf7+,Kh8,Qf8+,Kh7,Rf7+,Bg7,Qxg7#', 'https://lichess.org/training/MdvMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdvX1', 'Classical', 'Spin_19', 1704, 'Tovikurohman_R', 1678, 'e4,e5,Nc3,Nf6,Bc4,Bc5,Nd5,c6,Nxf6+,Qxf6,Nf3,d6,c3,Bg4,d4,Bb6,dxe5,dxe5,Bg5,Bxf3,Qxf3,Qxf3,gxf3,O-O,Rg1,g6,O-O-O,Bxf2,Rgf1,Bc5,f4,Be3+,Kc2,exf4,Bh6,Re8,Bxf4,Bxf4,Rxf4,Rf8,Rdf1,a5,Bxf7+,Kg7,e5,Nd7,e6,Ne5,e7', 'Rxf7,Rxf7+,Nxf7', 'https://lichess.org/training/MdvX1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdWm8', 'Blitz', 'dinesh3122', 2015, 'Jaydip_Solanki', 2003, 'd4,g6,c4,Bg7,Nc3,c5,d5,a6,a4,Nf6,Bf4,O-O,Qd2,d6,Bh6,Bd7,e4,e6,f3,exd5,cxd5,Re8,h4,Qa5,Bxg7,Kxg7,Rc1,b5,axb5,axb5,g4,Bxg4,fxg4,Nxe4,Nxe4,Rxe4+,Be2,Qd8,h5,Qe7,hxg6,fxg6,Qh6+,Kg8,Qh4,Nd7,Qxe7,Rxe7,Kd2,Ra2,Kc2,c4,Kb1,Ra8,Bd1,Nc5,Bc2,Nb3,Bxb3,cxb3,Rc3,Re1+,Rc1', 'Ra1+,Kxa1,Rxc1#', 'https://lichess.org/training/MdWm8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mDXZy', 'Classical', 'crushermfg', 1744, 'piratadeltablero', 1777, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,a3,c5,Bb5+,Nd7,O-O,a6,Bxd7+,Qxd7,Be3,cxd4,Nxd4,Bg6,Re1,Bc5,h3,Ne7,Nd2,Rc8,N2b3,Bxd4,Nxd4,Nf5,Nxf5,Bxf5,c3,O-O,g4,Bg6,a4,f6,exf6,Rxf6,Bd4,Rf7,Re3,Re8,f3,Qd6,Qe2,Qg3+,Qg2,Qf4,Rae1,Rfe7,Re5,Rf7,Rxe6,Rxe6,Rxe6,Qxf3', 'Re8+,Rf8,Qxf3', 'https://lichess.org/training/mDXZy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mdy0e', 'Rapid', 'matt_m_88', 1692, 'amoklaeufer1', 1636, 'd4,d5,Nf3,Nc6,c4,dxc4,Nc3,e5,Bg5,f6,d5,Nce7,Bh4,e4,Ng1,Nxd5,Qxd5,Qxd5,Nxd5,Bd6,Bg3,Ne7,Nxe7,Bb4+,Kd1,Kxe7,Bxc7,Bd7,a3,Rac8,axb4,Rxc7,Rxa7,Rd8,Kc2,e3,fxe3,Bf5+,Kc3,Rd1,Nf3,Rc1+,Kd2,Rc2+,Kd1,Rxb2,Nd4', 'Rb1+,Kd2,c3#', 'https://lichess.org/training/mdy0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MdY8U', 'Blitz', 'WCM kukola', 2169, 'aahmed78', 1884, 'e4,e5,Nf3,Qf6,d4,Nc6,dxe5,Nxe5,Nxe5,Qxe5,Bd3,Bc5,O-O,h6,Nc3,Nf6,Kh1,d6,f4,Qh5,Qxh5,Nxh5,e5,dxe5,fxe5,O-O,Bc4,Be6,Bd3,Bd4,Bd2,Bxe5,Ne4,f5,Nc5,Bd5,Bxf5,b6,Ne6,Rf6,Bg4,Rxf1+,Rxf1,Nf6,Bh3,Bxb2,Nxc7,Rf8,Bb4,Rf7', 'Nxd5,Nxd5,Be6', 'https://lichess.org/training/MdY8U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Me7iw', 'Classical', 'LiderChessAcademy123', 1670, 'vovademon', 1712, 'e4,e5,Nf3,Nf6,d4,exd4,Qxd4,Nc6,Qa4,h6,Nc3,Bb4,Bd2,Qe7,O-O-O,O-O,Nd5,Bxd2+,Rxd2,Qxe4', 'Nxf6+,gxf6,Qxe4', 'https://lichess.org/training/Me7iw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Me7ss', 'Blitz', 'suleymano', 1925, 'porompollo', 1716, 'e4,c5,Be2,Nc6,Nc3,d6,Bf3,e6,Nce2,Nf6,c3,e5,Ng3,Be6,N1e2,Be7,O-O,O-O,b3,a6,Bb2,Rb8,d4,cxd4,cxd4,exd4,Nxd4,Nxd4,Bxd4,Nd7,Qe2,Bf6,Qe3,Ne5,Rad1,Nxf3+,Qxf3,Qd7,Rd2,Bxd4,Rxd4,Qc6,Rfd1,Qc2,R4d2,Qc8,Qf4,Qc3,h3,Rbc8,Rxd6,Qb2,R6d2,Rc2,Qd6,Qxa2,Nf5,Bxf5,exf5,Rxd2,Rxd2,Qxb3,f6,g6', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/Me7ss');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('me93E', 'Blitz', 'pasha1984', 2499, 'IM roggefeller', 2669, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nf6,Nc3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Bg5,e6,O-O-O,Be7,Kb1,Qa5,Bd2,Qc7,Rhe1,O-O,h3,b5,g4,b4,g5,bxc3,gxf6,Bxf6,e5,cxd2,exf6,dxe1=Q,Rxe1,Bxf3,Rg1,g6,Qf4,Rfc8', 'Qh6,Qxc2+,Ka1,Qc1+,Rxc1', 'https://lichess.org/training/me93E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Me9tJ', 'Rapid', 'Silvia25', 1764, 'spinola01', 1697, 'e4,e6,Bc4,a6,a3,c5,Nh3,Ne7,d3,d5,exd5,Nxd5,Qf3,Nc6,Bxd5,exd5,Ng5,f6,Nh3,Ne5,Qe2,Be7,f4,Bg4,Qe3,Ng6,f5,Bxf5,Rf1,d4,Qf3,Bc8,Nf4,Ne5,Qg3,O-O,Nh5,Ng6,Bf4,Kh8,Nd2,Rg8,Nf3,Nxf4,Nxf4,Bd6', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/Me9tJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MEAbM', 'Rapid', 'edarias', 1779, 'razifakbar', 1812, 'e4,c5,Nf3,d6,Nc3,e6,Be2,Nf6,d3,Nc6,O-O,Be7,d4,cxd4,Nxd4,a6,Nxc6,bxc6,Bd3,Qc7,Bf4,Bb7,Qe2,O-O,e5,dxe5,Bxe5,Qb6,Ne4,Nxe4,Qxe4,g6,Bd4', 'c5,Qxb7,Qxb7', 'https://lichess.org/training/MEAbM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MEaGw', 'Rapid', 'vladimirzozulya1500', 1852, 'ilez', 1820, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Nxe5,Bxf2+,Kxf2,Nxe5,Rf1,Nf6,Nc3,O-O,d4,Ng6,e5,Ne8,Qf3,Qh4+,Kg1,Qxd4+,Be3,Qxe5,Rae1,Qf6,Qh5,Qe5,Qd1,Qd6,Qe2,Nf6,Bc4,c6,a3,Qc7,Bc5,d6,Bd4,Bg4,Qd2,d5,Bd3,Rfe8,Bxf6,gxf6,Rxf6,Rxe1+,Qxe1,Qe5', 'Rxg6+,hxg6,Qxe5', 'https://lichess.org/training/MEaGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MeanG', 'Rapid', 'Cupertiano', 1778, 'Munguntulga', 1704, 'Nc3,e6,Nf3,Bb4,Nb1,Nc6,a3,Bc5,b4,Bb6,c4,a6,c5,Ba7,d4,d6,cxd6,Qxd6,Bb2,Nf6,e3,O-O,Be2,Rd8,O-O,Ne4,Qc2,Nf6,Nc3,Ne7,Ne4,Nxe4,Qxe4,c6,Rfd1,Bb8,Bd3,Ng6,g3', 'f5,Qe5,Nxe5', 'https://lichess.org/training/MeanG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MEAps', 'Blitz', 'AronLevonian', 1727, 'fluege', 1719, 'e4,e6,d4,d5,Nc3,Ne7,Nf3,dxe4,Nxe4,Nbc6,Bb5,Bd7,O-O,Nd5,Nc5,Bxc5,dxc5,a6,Bxc6,Bxc6,b4,O-O,a3,Nc3,Qe1,Ne4,Bb2,Ng5,Qe5,Nxf3+,gxf3,f6,Qxe6+,Kh8,Kh1,Bxf3+,Kg1,Qd5,Qxd5,Bxd5,h3,Rae8,Kh2,Re2,Rac1,Be4,Bd4,Rxc2,Rce1,f5,Rg1,Rf7,Kg3,Kg8,f3,f4+,Kg4,Bf5+,Kh4,Rh2', 'Re8+,Rf8,Rxg7+,Kh8,Rxf8#', 'https://lichess.org/training/MEAps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MeCCw', 'Rapid', 'lechwsus', 1939, 'kaanny', 1900, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Ne4,Bb4,a5,Ba3,d6,Qd3,f5,e3,b6,Nf3,Bb7,Be2,Nd7,O-O,O-O,Nd2,Qh4,f3,Nxd2,Qxd2,Rf6,Bd3,Raf8,e4,f4,b3,e5,Bb2,Rh6,h3,Qg3,Kh1,Rff6,Qf2,Qg6,dxe5,dxe5,Rad1,Qe8,a3,Nc5,Bc2,Bc8,Kh2,Kf7,b4,Qe6,bxc5,Rxh3+,Kg1,Rg3,Rd2,Rh6,Re1,Qh3,Kf1,Qh2,Qg1,Rxf3+,Rf2,Rxf2+,Qxf2,Bg4,Qg1,Qg3,cxb6,Rxb6,Bc1,Rg6,Qf2,Be6,Qxg3,Rxg3,c5,Rc3,Re2', 'Bc4,Kf2,Bxe2', 'https://lichess.org/training/MeCCw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MedCu', 'Blitz', 'Takiszo', 1678, 'vonDodenstein', 1660, 'e4,c5,Nf3,d6,Bc4,e6,O-O,Nf6,d3,a6,a3,Nc6,Nc3,Be7,Ng5,O-O,f4,Nd7,Rf3,Nb6,Rh3,Bxg5,fxg5,Nxc4,dxc4,g6,Bf4,d5,cxd5,exd5,Nxd5,Bxh3,gxh3,Nd4,Nf6+,Kg7,Be5,h6,gxh6+,Kxh6,Qd2+,g5,Ng4+,Kg6,Rf1,Nf3+,Rxf3,Qxd2,Rf6+,Kh7', 'Rh6+,Kg8,Rh8#', 'https://lichess.org/training/MedCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MeeKW', 'Rapid', 'hasanmelik', 1744, 'waitz', 1750, 'e4,e5,Bc4,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Be7,O-O,O-O,f4,d6,Nc3,c5,Qe3,Be6,Bxe6,fxe6,e5,Nd5,Qh3,Nxc3,Qxe6+,Kh8,bxc3,dxe5,fxe5', 'Rxf1+,Kxf1,Qd1+', 'https://lichess.org/training/MeeKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MeeNH', 'Classical', 'elvann', 1703, 'Polok819', 1674, 'f3,e5,g3,d5,Nh3,h6,Nf2,Bc5,e3,Nf6,Bg2,Nc6,O-O,Be6,Re1,Qd6,c3,O-O-O,d4,exd4,exd4,Bb6,Bf4,Qd7,Nd3,g5,Be5,Nxe5,Nxe5,Qe7,Kh1,Nd7,f4,gxf4,gxf4,Qh4,Nd2,Qxf4,Rf1,Qg5,Nxf7,Bxf7,Rxf7,Rhg8,Rf2,Rdf8,Rxf8+,Nxf8,Qe2,Ng6,Rg1,Nf4', 'Bh3+,Kb8,Rxg5', 'https://lichess.org/training/MeeNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MeFAh', 'Rapid', 'vertical_asymptote', 1821, 'chaachay', 1669, 'd4,Nf6,Nf3,d5,Bf4,g6,h3,Nh5,Be5,Nf6,e3,Bg7,Be2,Nc6,Bh2,Bd7,O-O,e6,Nbd2,b6,c4,Bc8,cxd5,Nxd5,Rc1,Bb7,Ne5,Nxe5,Bxe5,Qg5,Nf3,Nxe3,fxe3,Qxe3+,Kh1,Bxe5,Nxe5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/MeFAh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mefeE', 'Rapid', 'themagician98', 1808, 'Rafael8638', 1859, 'e4,e6,f4,d5,exd5,exd5,d4,Nc6,Nf3,Bg4,c3,Bd6,Bd3,Nf6,O-O,Bxf3,Qxf3,O-O,Nd2,Na5,Qg3,c5,Nf3,c4,Bc2,Ne4,Bxe4,dxe4,Ng5,h6,Nxe4,Bc7,Qg4', 'f5,Qg6,fxe4', 'https://lichess.org/training/mefeE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MeFOd', 'Rapid', 'R_AKBARI', 1719, 'Ranet', 1739, 'e4,c5,Nf3,e6,Nc3,Nc6,g3,b6,Bg2,Nf6,O-O,Bb7,d3,Be7,Bg5,O-O,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,e5,Bxg2,exf6,Bxf6', 'Bxf6,Qxf6,Qxf6,gxf6,Kxg2', 'https://lichess.org/training/MeFOd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MEGHF', 'Rapid', 'Amarokas', 1776, 'ezhhik', 1816, 'Nf3,c6,e3,d5,Nc3,Bg4,d4,e6,Bd3,Nf6,h3,Bh5,g4,Bg6,Bxg6,fxg6,O-O,Qd6,g5,Nh5,Ne5,Be7,Qf3,Rf8,Qg4,Nd7,Nf3,O-O-O,b3,Rxf3,Qxf3,Rf8,Qg4,h6,gxh6,gxh6,Qxg6,Ndf6,Kh1,Rg8,Qd3,Bd8,Rg1,Rxg1+,Kxg1,Bc7,f4,Ng3,Qg6,Nfe4,Nxe4,Nxe4,Qxh6,b5,Qg6,Kb7,c4,Qb4,cxb5,Qe1+,Kh2,Qc3,Qxe6,Qc2+,Kh1,Qd1+,Kh2,Qe2+,Kh1,Ng3+,Kg1', 'Qf1+,Kh2,Qf2#', 'https://lichess.org/training/MEGHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mEhd5', 'Rapid', 'zkel29', 1986, 'AMMAR2012', 2011, 'Nf3,Nc6,c4,b6,d4,d5,Nc3,e6,Qa4,Qd7,cxd5,exd5,e3,Nf6,Bb5,Bb7,O-O,a6,Bxc6,Bxc6,Qc2,Bd6,Re1,O-O-O,a3,Kb7,b4,b5,Bd2,h5,Ne2,h4,h3,Rdg8,Ne5,Bxe5,dxe5,Ne4,Nd4,g5,Rac1,Nxd2,Qxd2,g4,Nxc6,gxh3,Na5+,Kc8,f4', 'Rxg2+,Qxg2,hxg2', 'https://lichess.org/training/mEhd5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MEhdw', 'Classical', 'juandelajota', 1643, 'liloleme', 1638, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Nc3,h6,Bd3,Bxd3,Qxd3,Ne7,O-O,Ng6,Na4,Be7,Nc5,b6,Nb3,Nd7,c4,O-O,Be3,a5,Nbd2,c5,Rfe1,cxd4,Bxd4,Bc5,g3,Bxd4,Nxd4,Ndxe5,Qc3,Rc8,b3,dxc4,bxc4,Qc7,Nb5,Qc5,Rac1,Rfd8,Ne4,Qe7,Rcd1,Rxd1,Rxd1,Rxc4,Qe3,Qb4,Rd8+,Kh7,Nbd6,Qb1+,Kg2,Rc2,Nd2,Qxa2,N6e4,Ng4,Qe2,N4e5', 'Ng5+,hxg5,Qh5#', 'https://lichess.org/training/MEhdw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mEHy2', 'Bullet', 'qarvin', 1579, 'cybervincy', 1844, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Nf3,Nbc6,Be3,c4,Be2,O-O,Ng5,f6,exf6,Rxf6,Nf3,Rg6,O-O,Nf5,Bf4,Qf6,Be5,Nxe5,Nxe5,Qg5,Bf3,Nh4,Rb1,Nxg2,Ng4,e5,Bxg2,e4,f3,exf3,Qxf3,Bxg4', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/mEHy2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MEIz6', 'Rapid', 'chesslestian-dragon', 1888, 'Gukhman_Sergey', 1957, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d5,exd5,Nxd5,O-O,O-O,Ne4,Bf5,Re1,Re8,Nc5,b6,Nb7,Qd7,Rc1,Rxe1+,Qxe1,Rb8,Nh4,Be6,Bxd5,Qxd5,Qc3,Bd7,Qf3,Qxf3,Nxf3,Rxb7,Re1,Be6,d5,Bd7,dxc6,Bxc6,b3,Kf8,Ne5,Be8,Nc4,f6,f3,Bf7,Rd1,Bxc4,bxc4,Ke7,Rd4,c5,Rh4,h6,Kf2,Ke6,Re4+,Kf7,Re3,Rd7,Ra3,a5,Ke3,Rd4,Rb3,Rxc4,Rxb6,Rc2,a4,Rxg2,Rb5,Rxh2,Rxc5,h5,Rxa5,h4,Kf4,g5+,Kf5,Rf2,Ra7+,Kg8,Kg6,Kf8,Kxf6,Ke8,Kxg5,h3,Kg4,h2,Rh7,Kd8,Kg3,Ra2,Rxh2,Rxa4,Re2,Kd7,f4,Ra8,f5,Rg8+,Kf4,Rf8,Kg5,Rg8+,Kf6,Rf8+,Kg6,Rg8+,Kf7,Rg5,f6,Rf5,Kg6,Rf1,f7,Rg1+,Kh5,Rh1+,Kg6,Rg1+,Kh7,Rh1+,Kg8,Rg1+,Kf8,Rf1,Re7+,Kd6,Ke8,Ra1,Rb7', 'Ra8+,Rb8,Rxb8#', 'https://lichess.org/training/MEIz6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mEkFs', 'Classical', 'bald_eaglenewton', 2024, 'ghazzawy1969', 2082, 'e4,e6,Nc3,c5,f4,d5,e5,Nc6,Nf3,Be7,a3,a6,d3,Nh6,g3,b5,Bg2,Nf5,O-O,Qb6,Kh1,h5,Qe1,h4,Nxh4,Nxh4,gxh4,Bxh4,Qd1,Nd4,Ne2,Nf5,Rf3,Bb7,Rh3,O-O-O,Bd2,Bf2,Qf1,Rxh3,Bxh3,d4+,Bg2,Be3,Be1,Rh8,Rd1,Qd8,Bxb7+,Kxb7,Qf3+,Kc7', 'Ba5+,Kb8,Bxd8', 'https://lichess.org/training/mEkFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MEkjz', 'Blitz', 'akpawn', 1808, 'r4in', 1801, 'd4,c6,e4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,f4,Nd7,Nf3,c5,c3,cxd4,cxd4,Ne7,Nc3,Nf5,g4,Nh4,O-O,Nxf3+,Qxf3,a6,a3,Be7,b4,Qc7,Bb2,Rc8,Rac1,Qb6,Na4,Qd8,Nc5,Rb8,Rc2,Nb6,Qb3,Nc4,Ba1,Bxc5,dxc5,b6,Rd1,Qc7,cxb6,Qxb6+,Bd4,Qb7,Bc5,f6,exf6,gxf6,Re1,Kf7,Rce2,Rbe8,f5,e5,Qd3,Qc6,Rd1,Rd8,Qf3,h6,h4,e4,Qf4,Ne5,Kg2,Qb5,Red2,Qc6,Bd4,Nd3,Qe3,Rhg8,Kh3,Rg7,Re2,Rdg8,Rxd3,Rxg4,Qxh6,exd3,Qh7+,R8g7,Qh5+,Kf8,Rd2,Rg3+,Kh2,Rg2+,Rxg2,Rxg2+,Kxg2,Qc2+,Bf2,d2,Qh6+,Ke7,Qg7+,Kd6,Qxf6+,Kc7,Qe7+,Kc8,Qe8+,Kc7,Qe6,d1=Q,Qf7+,Kd6,Qf8+,Ke5,Qe8+,Kf4,Qe3+,Kg4,Qg3+,Kxf5,Qg5+,Ke4,Qg4+,Kd3', 'Qd4+,Ke2,Qe3#', 'https://lichess.org/training/MEkjz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mekrf', 'Blitz', 'Juan-Matematico', 2002, 'raumzeit', 2080, 'd4,c5,d5,b5,e4,Qb6,a4,bxa4,Rxa4,g6,c3,Bg7,Qc2,d6,Be3,Bd7,Ra1,Nf6,Bd3,O-O,Na3,Ng4,Nc4,Qc7,Bd2,a5,Nf3,a4,h3,Ne5,Ncxe5,dxe5,O-O,c4,Be2,Na6,Be3,f5,Rfd1,f4,Bd2,Bb5,Be1,Nc5,Ng5,Qb6,Kh1,Rfb8,f3,Nb3,Ra3,h6,Ne6,Qd6,Bf2,Rc8,Bf1,Bd7,Kh2,Bxe6,dxe6,Qxe6,Rd5,Qc6,Qd1,e6,Rd6,Qe8,Bb6,Bf8,Rd7,Bxa3,bxa3,Nc5,Bxc5,Rxc5,Qd6,Rac8,Re7,Qc6,Qxe6+,Qxe6,Rxe6,Kf7,Ra6,Rd8,Rxa4,Rd1,Bxc4+,Kf6,Bd5,Rb5,Ra6+,Kg5,Bf7,Rbb1', 'Rxg6+,Kh4,Rg4#', 'https://lichess.org/training/Mekrf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MEKTm', 'Rapid', 'burj', 2228, 'hansip', 2215, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,c4,Nf6,Nc3,a6,a3,Be7,Be3,O-O,Be2,e5,Nf5,d6,Nxe7+,Qxe7,Nd5,Nxd5,exd5,Nb8,O-O,h6,b4,Nd7,Rc1,Nf6,Qc2,Bd7,Rfd1,Rac8,c5,e4,Bf4,dxc5,bxc5,Rfe8,Bd6,Qd8,Rb1,Bf5,Rxb7', 'Qxd6,cxd6,Rxc2', 'https://lichess.org/training/MEKTm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mENpw', 'Blitz', 'Jabar81', 1507, 'redimi2xc', 1514, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bg5,e6,e3,Be7,Bd3,Nc6,Nf3,O-O,Bc2,Qd6,Bxf6,Bxf6,Qd3,g6,e4,dxe4,Nxe4,Qe7,O-O,Bg7,Nfg5,Nxd4,Rac1,f5,Qh3,h6,Nf3,fxe4,Nxd4,e5,Qb3+,Kh7,Ne2,Qg5,Bxe4,Qg4,Ng3,Be6,Qd3,Rad8,Bxg6+,Qxg6,Qa3,Rd2,Rc7,Rc2,Rxb7,Bc4,Qe7,Rcxf2,Rxf2', 'Qb1+,Nf1,Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/mENpw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MEoZa', 'Rapid', 'favalle37', 1852, 'DukeNails', 1948, 'e4,Nc6,d4,d5,Nc3,e6,Bd3,Bb4,exd5,Qxd5,Nf3,Bd7,Bd2,Bxc3,Bxc3,O-O-O,Qe2,Nf6,O-O-O,Qh5,Kb1,Nd5,Qd2,h6,Be4,Nxc3+,Qxc3,Qb5,Ne5,Nxe5,dxe5,Bc6,Bxc6,bxc6,Rd4,Rd5,f4,Kd7,Rhd1,Rb8,a4,Qb6,b3,Ke7,Qd3,Qc5,Ka2', 'Rxd4,Qxd4,Qxc2+', 'https://lichess.org/training/MEoZa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mEP9S', 'Blitz', 'Altmarkwolf', 2027, 'iw', 2236, 'e4,c5,f4,Nc6,Nf3,d5,e5,Bg4,c3,d4,cxd4,cxd4,d3,e6,Be2,Nh6,Nbd2,Rc8,O-O,Nf5,Ne4,Be7,h3,Bxf3,Bxf3,O-O,g4,Nh4,g5,Nxf3+,Qxf3,Nb4,Qh5,Kh8,f5,exf5,Rxf5,Nxd3,Bd2,Qd5,Qh4,Nc5,Nf6,gxf6,gxf6,Rg8+,Bg5,Ne6,fxe7,Rc2,Qg4,Nxg5,Rxg5,Rcc8', 'Rxg8+,Rxg8,Qxg8+,Kxg8,e8=Q+', 'https://lichess.org/training/mEP9S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MeprO', 'Blitz', 'FM Nebula64', 2452, 'Tignanello', 2348, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nf6,Nf3,Bg4,Nbd2,cxd4,Bc4,Qd8,Bxf7+,Kxf7,Ne5+,Kg8,Nxg4,Nc6,Nxf6+,gxf6,Qb3+,Kg7,Qxb7,Rc8,cxd4,Nxd4,O-O,Qc7,Qe4,e5,Nf3,f5,Nxd4,fxe4,Ne6+,Kf6,Nxc7,Rxc7,Bd2,Bc5,Rfe1,Kf5,Rac1,Rhc8,Kf1,Bd4,Rxc7,Rxc7,Rc1,Rxc1+,Bxc1,Ke6,Ke2,Kd5,b3,Kc5,Bd2,Kd5,Bb4,Bb6,g4,Ke6,h4,Bd4,Bd2,a6,Bg5,Kd5,Bd8,Ke6,g5,Kf5,h5,Bc5,Kf1,Bf8,a4,Kg4,g6,hxg6,hxg6,Kf5,g7,Bxg7,b4,Bf8,b5,axb5,axb5,Ke6,Ke2,Kd7,Ba5,Bc5,Bd2,Kc7,Ba5+,Bb6', 'Bxb6+,Kxb6,Ke3,Kxb5,Kxe4,Kc6,Kxe5', 'https://lichess.org/training/MeprO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('meQ5E', 'Rapid', 'casha777', 1701, 'juniortropical', 1811, 'e4,c6,h3,d5,Nc3,d4,Nce2,e5,d3,f5,exf5,Bxf5,Nf3,Nd7,Ng3,Be6,c3,c5,Qa4,Bd6,Nh5,Qe7,Bg5,Qf7,Ng3,Nf6,Be2,O-O,O-O,h6,Bxf6,Nxf6,a3,Nd5,Qc2,Nf4,c4,Qg6,Nh4,Qf6,Nf3,Be7,Ne4,Qg6,Ng3,Rf7,Nxe5,Qg5,Nxf7,Bxf7,Bf3,Bg6,Ne4,Bxe4,Bxe4,Nxh3+,Kh1,Qh4,g3,Nxf2+,Kg2,Qh3+,Kxf2,Rf8+,Bf3', 'Qh2+,Ke1,Qxc2', 'https://lichess.org/training/meQ5E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mErEg', 'Blitz', 'breay', 1713, 'matthias61', 1759, 'c4,c5,Nc3,b6,g3,Bb7,Nf3,Nf6,Bg2,d6,O-O,e6,a3,Be7,b4,O-O,Bb2,Nbd7,Qc2,h6,Nd1,Qc7,Ne3,d5,bxc5,bxc5,cxd5,exd5,d4,c4,a4,a5,Ba3,Bxa3,Rxa3,Qd6,Ra2,Bc6,Nh4,Nb6,Nhf5,Qd7,Bh3,Kh8,Ng4,Nxg4,Bxg4,Bxa4,Qd2,Qc6,Bf3,Bb3,Rb2,a4,g4,a3,g5,axb2,gxh6,gxh6,Bxd5,Nxd5,e4,Nf6', 'Qxh6+,Nh7,Qg7#', 'https://lichess.org/training/mErEg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('merPo', 'Rapid', 'PrimeSuspect', 2026, 'Learner24', 1902, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,d4,Nf6,Bxc6,Bxc6,d5,Bb5,Bg5,Be7,Bc1,Nxe4,Na3,Ba6', 'Qa4+,c6,Qxe4', 'https://lichess.org/training/merPo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Merz2', 'Rapid', 'mate-amargo1989', 1621, 'jalrivi1952', 1841, 'e4,g6,Nc3,Bg7,d4,d6,Nf3,e6,Bd3,b6,d5,e5,O-O,Ne7,Be3,a6,Qd2,Bg4,Be2,Bxf3,Bxf3,O-O,Ne2,Nd7,c4,f5,Bg5,f4,g3,h6,Bxe7,Qxe7,Bg4,f3,Be6+,Kh7,Nc3,Nc5,Bh3,Bf6,Rfe1,Bg5,Qc2,h5,Na4,Nxa4,Qxa4,h4,g4,Rf4,Re3,a5,b4,Qd8,b5,Qc8,Qb3,Rxg4+,Kf1,Rg1+,Kxg1,Qxh3,Rxf3,Qg4+,Kf1,Bf4,Ke2,Bxh2,Qe3,Rf8,Rh1,Bf4,Rxh4+', 'Qxh4,Rh3,Bxe3,Rxh4+,Bh6', 'https://lichess.org/training/Merz2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mesRe', 'Blitz', 'Amir1302', 2372, 'IM Sergei-rodchenkov', 2399, 'd4,Nf6,c4,e6,g3,c5,d5,exd5,cxd5,d6,Bg2,a6,a4,g6,Nc3,Bg7,Nf3,O-O,O-O,Re8,Re1,Nbd7,e4,Rb8,Bf4,Qc7,e5,dxe5,d6,Qd8,Nxe5,Nh5,Qd5,Rf8,Nxd7,Nxf4,gxf4,Bxd7,Qxc5,Qh4,Qe3,Bc6,Qg3,Qf6,Rad1,Rfd8,Qe3,Rxd6,Rxd6,Qxd6,Rd1,Qb4,Nd5,Qxa4,b3,Qb5,f5,Re8,Qg3,Be5,Qh3,Kg7,fxg6,hxg6,Qd3,Qc5,Ne3,Rh8,h3,Bf6,Bxc6,bxc6,Ng4,Qg5,Qf3,Bb2,Qxc6,Rxh3,Qg2,Rh4,Ne3,Qh5,Rb1,Be5,b4,Rh2,Qe4,Qg5+,Kf1,Bf4,Qd4+,Be5,Qe4,Qh5,Ng4,Qh3+,Ke2,Bf6,Nxf6,Kxf6,Qd4+,Kg5,Qe3+,Kh5,Qxh3+,Rxh3,b5,axb5,Rxb5+,Kh6,Rb4,Rh5,f3,Rf5,Kf2,Kg7,Kg3,f6,Rb6,Rg5+,Kf2,Re5,Rb7+,Kh6,Rb4,Kg5', 'f4+,Kf5,fxe5', 'https://lichess.org/training/mesRe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MEvEm', 'Classical', 'rayochess', 1616, 'ArcticFishy', 1602, 'e4,c5,Nf3,e6,Nc3,g6,d4,cxd4,Nxd4,Bg7,Bd3,Bxd4,Nb5,Be5,c3,a6,Na3,Ne7,Bg5,Nbc6,Nc4,Bg7,Nd6+,Kf8,Qf3,Ne5,Qe3,h6,Bh4,Qc7,Nxc8,Rxc8,Bg3,N7c6,O-O,d6,Bc2,Kg8,Bb3,Kh7,f4,Ng4,Qf3,h5,f5,exf5,exf5,Nce5,Bxe5,Nxe5,Qg3,Rhf8,Bc2,Ng4,h3,Ne5,Rae1,Rce8,Rxe5,Bxe5,fxg6+,Kg7,Qg5,Qe7,Qxh5,Rh8,Qg4,Rh4', 'Rxf7+,Qxf7,gxf7+', 'https://lichess.org/training/MEvEm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mEvqT', 'Blitz', 'Dok___1980', 1700, 'ronyh', 1695, 'd4,d5,Bf4,Nc6,e3,Bf5,c3,h6,Nd2,e6,Ngf3,Nf6,c4,dxc4,Bxc4,Bb4,O-O,O-O,Rc1,a6,a3,Bxd2,Nxd2,Ne4,Nxe4,Bxe4,f3,Bh7,b4,Ne7,Bd3,Bxd3,Qxd3,Nd5,Bg3,c6,e4,Nf6,Bh4,g5,Bf2,Nh5,Rc5,Nf4,Qe3,Qd7,h4,Rad8,hxg5,hxg5,Rxg5+,Ng6,Qf4,Qe7,Bh4,Qd6,Qg3,Qxd4+,Kh1,Qg7,Rg4,Rd7,f4,Qh6,Kg1,Kh7,Kf2,Rd2+,Ke1,Rfd8,Bg5,Rd1+,Kf2,R8d2+,Kg1', 'Rxf1+,Kxf1,Qh1#', 'https://lichess.org/training/mEvqT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MExIP', 'Blitz', 'avc1964', 2270, 'CM Blueagle', 2152, 'Nf3,c5,c4,b6,g3,Bb7,Bg2,g6,d4,cxd4,Qxd4,Nf6,O-O,Nc6,Qf4,Bg7,Nc3,O-O,Qh4,Rc8,Bh6,Qc7,Ng5,Nd8,Bxb7,Qxb7,Nd5,Nxd5,Bxg7,Kxg7,Qxh7+,Kf6,Ne4+,Ke5,Qg7+,Nf6,Nxf6,Ne6,Ng4+,Kd6,Qe5+,Kc6,Rac1,d6,Qd5+,Kc7,Qxb7+,Kxb7,Ne3,Nd4,Rfe1,e6,h4,f5,Rcd1,e5,b3,f4,Nd5,fxg3,fxg3,g5,hxg5,Rce8,Kg2,Rg8,Rf1,Rxg5,Rf7+,Kb8,e3,Nc6,Rh1,Nd8,Rd7,Reg8,Kf2,Rf8+,Ke2,Rxg3,Rhh7,Rg2+,Kd3,e4+,Kxe4,Re8+,Kd3,Ne6,Rde7,Nc5+,Kc3,Rxe7,Rxe7,Rxa2,Nb4,Re2,Nc6+,Kc8,Nxa7+,Kd8,Nc6+,Kc8,b4,Nd7,b5,Kc7,Nb4,Kd8,Nd5,Ne5,Nxb6,Kxe7,Nd5+,Kd7,Nf6+,Ke6,Nd5,Ng4,b6,Nxe3,b7,Nxd5+', 'cxd5+,Kxd5,b8=Q', 'https://lichess.org/training/MExIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MeXu5', 'Rapid', 'colisito', 1875, 'Ibraimo', 1918, 'e4,e5,Nf3,d6,h3,Be7,Bc4,Nf6,d3,O-O,c3,c6,Bb3,Qc7,Nbd2,Na6,Nf1,Nc5,Bc2,h6,Ng3,Be6,O-O,d5,d4,Ncd7,a3,Rad8,Qe2,Rfe8,Be3,exd4,Nxd4,dxe4,Nxe6,fxe6,Nxe4,Nxe4,Bxe4,Nf6,Bc2,Bd6,Rad1,e5,Bb3+,Kh8,Bc2,Nd5,Bc1,Nf4,Qf3,Rf8,Bxf4,Rxf4,Qe3,Rdf8,Rd2,Qf7,Qd3,g6,Qxd6,e4,Qe5+,Kh7,Bxe4,Re8,Bxg6+,Qxg6,Rd7+,Rf7,Rxf7+,Qxf7,Qd4,Re7,Rd1,b6,Qd6,Re6,Qd7,Re7,Qxc6,Kg7,Qd5', 'Re1+,Rxe1,Qxd5', 'https://lichess.org/training/MeXu5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('meYNj', 'Rapid', 'Robbin01', 1933, 'sinergio', 1950, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Qg4,Qc7,Bd3,cxd4,Ne2,dxc3,Qxg7,Rg8,Qxh7,Qxe5,O-O,Qg7,Qxg7,Rxg7,Nxc3,e5,Re1,Bh3,g3,Nbc6,Bb5,O-O-O,Bb2,Nd4,Be2,Nxc2,Rac1,Nxe1,Nxd5+,Nc6,Ne7+,Kb8', 'Nxc6+,bxc6,Bxe5+', 'https://lichess.org/training/meYNj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mEZ4c', 'Blitz', 'project2200', 2051, 'ThatOne', 2058, 'e4,e6,d4,d5,Nc3,Bb4,Bd3,c5,Nf3,c4,Be2,dxe4,Ne5,Nf6,Bxc4,Nc6,Nxc6,bxc6,O-O,O-O,Bg5,Be7,Re1,h6,Bxf6,Bxf6,Rxe4,Bb7,Rg4,Qb6,Bb3,Rad8,Ne2,c5,c3,cxd4,cxd4,e5,Qd2,exd4,Qxh6,d3,Nf4,d2,Nh5,Bxb2', 'Rxg7+,Bxg7,Qxg7#', 'https://lichess.org/training/mEZ4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mf1DH', 'Rapid', 'dominguez1986', 2053, 'Wiseguy55', 2404, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,Be7,g3,O-O,Bg2,dxe4,dxe4,c5,O-O,Nc6,Qe2,Nd4,Nxd4,cxd4,e5,Nd5,Nb3,Qb6,Rd1,Bd7,Nxd4,Bc5,c3,Rfd8,Bxd5,exd5,Be3,a5,f4,Qg6,Qd3,Qg4,Ne2,Bb5,Qxb5,Bxe3+,Kg2,h5,h3,Qe6,Nd4,Bxd4,Rxd4,h4,g4,Ra6,Rad1,Rb6,Qe2,a4,f5,Qc6,e6,fxe6,Qxe6+,Qxe6,fxe6,Rxe6,Kf3,Rf8+,Rf4,Rxf4+,Kxf4,Re2,b3,a3,Rxd5,Rxa2,Kg5,Kf7,Rd7+,Ke6,Rxb7,Rb2,b4,Rb3,Ra7,Rxc3,Kxh4,Kf6,b5', 'g5+,Kh5,Rxh3#', 'https://lichess.org/training/mf1DH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MF27K', 'Blitz', 'Shirayukihime', 1873, 'Ocean56', 2056, 'Nf3,Nc6,c4,e5,Nc3,Nf6,d3,d5,cxd5,Nxd5,a3,a5,e4,Nb6,Be2,Bc5,O-O,O-O,Be3,Qe7,Rc1,Bxe3,fxe3,Be6,d4,Bc4,d5,Bxe2,Qxe2,Na7,Nb5,Nxb5,Qxb5,Rfd8,Rc3,h6,Rfc1,Rd7,d6,Qxd6,Nxe5,Re7,Nc4,Nxc4,Qxc4,c6,Rd3,Qe5,Rd4,Rae8,Rf1,c5,Rd5,Qxb2,Rxc5,Qxa3,Rc8,Qxe3+,Kh1,Rxc8,Qxc8+,Kh7,Qf5+,Kg8,Qc8+,Kh7,Qf5+,g6,Qxa5,Qxe4,Qa2,Qe2,Rxf7+,Kh8', 'Rf8+,Kg7,Qg8#', 'https://lichess.org/training/MF27K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mf3Ar', 'Blitz', 'steemian', 2025, 'piotrekm91', 2011, 'f4,Nf6,e3,e6,Nf3,d5,d4,c5,c3,Nc6,Bd3,Qb6,O-O,cxd4,exd4,Bd6,Ne5,Bd7,Kh1,h6,a4,a6,Qf3,O-O,Nd2,Rad8,g4,Bc8,h4,Nh7,g5,f6,g6,fxe5,gxh7+,Kh8,Qg4,e4,Bxe4,dxe4,Nxe4,e5,f5,Be7,Rg1,Rf7,Qg6,Rdf8,Bxh6,Bxf5', 'Bxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/Mf3Ar');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MF4dR', 'Rapid', 'ygnbnl', 1671, 'Vanbasten1988', 1672, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,d4,h6,Qf3,e6,Ne2,Ngf6,O-O,Bd6,Bf4,Qb6,b3,O-O,Nbc3,Qc7', 'Nb5,Bxf4,Nxc7', 'https://lichess.org/training/MF4dR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MF5gM', 'Blitz', 'ishzv', 1629, 'Fettito', 1617, 'e4,e5,f4,exf4,Nf3,g5,Bb5,a6,Ba4,Bg7,d4,Nc6,c3,g4,Ne5,Nxe5,dxe5,Qh4+,Kf1,Bxe5,Nd2,h5,Bb3,d6,Nc4,f3,Nxe5,fxg2+,Kxg2,Qh3+,Kg1,dxe5,Qd5,Be6,Qxe5,Rd8,Bxe6', 'Rd1+,Kf2,Qf3#', 'https://lichess.org/training/MF5gM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mf6s3', 'Blitz', 'kurdman_pouyesh', 1753, 'bigmoe94', 1771, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,O-O,Bd6,c3,Nf5,d4,O-O,dxe5,Bxe5,f4,Bd6,Nd2,Ne3,Qe2,Nxf1,Nxf1,Bg4,Qf2,b6,b4,a5,a3,axb4,cxb4,Bxb4,axb4,Rxa1,Bb2,Ra8,Qg3,Bh5,Qh4,Bg6,g4,h6,Nf3,Be4,N1d2,Bxd5,Bb5,c6,g5,hxg5,fxg5,Nh7,Bd3,g6,Qh6,f6', 'Qxg6+,Kh8,Qxh7#', 'https://lichess.org/training/Mf6s3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MF8vA', 'Rapid', 'LeXuSBisHOP', 1809, 'dedelagachette13', 1900, 'd4,d5,c4,Bf5,Nf3,e6,Nc3,Nc6,cxd5,exd5,Bg5,Nf6,e3,Nb4,Rc1,Be7,a3,Nc6,Be2,a6,O-O,O-O,Re1,h6,Bh4,Nd7,Bg3,Bg5,Nxd5,Be4,Nf4,Bxf4,Bxf4,Nf6,Qb3,Rb8,Red1,Bd5,Qc2,Ne4,Bd3,Nf6,e4,Bxe4,Bxe4,Nxe4,Qxe4,f5,Qe6+,Kh8,Ne5,Nxd4,Nf7+,Rxf7,Qxf7,Rc8,Rc4', 'Ne2+,Kf1,Qxd1#', 'https://lichess.org/training/MF8vA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mFAgq', 'Blitz', 'sanu2018', 1573, 'Prabathch', 1635, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,Bd7,O-O-O,Rc8,Bb3,Ne5,Kb1,Nc4,Bxc4,Rxc4,g4,Qa5,h4,Rfc8,h5,Rxc3,bxc3,Bxg4,fxg4,Nxe4,Qh2,Nxc3+,Kc1,Nxa2+,Kb1,Nb4,Kc1,Na2+,Kb1,Rc4,hxg6,Rb4+,Nb3,Rxb3+,cxb3,Nc3+,Kc1,Qa3+,Kd2,Qb2+,Ke1,Qxb3,Qxh7+,Kf8,Rc1,Qb2,Bd2,Ne4,Be3,Bc3+,Kd1', 'Nf2+,Bxf2,Qd2#', 'https://lichess.org/training/mFAgq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mFaIS', 'Rapid', 'faty5904', 1785, 'cycle_paul', 1872, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,c3,d6,O-O,Be7,cxd4,O-O,Re1,Bg4,Nc3,Bxf3,Qxf3,Nxd4,Qd3,c5,Nd5,Nxd5,Bxd5,Rb8,Re3,Bf6,Rh3,h6,Bxh6,gxh6,Rxh6,Bg5,Rh5,Qf6,e5,Qg6', 'Qxg6#', 'https://lichess.org/training/mFaIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MFEqd', 'Blitz', 'lxgrain', 1886, 'SO_fyan', 1901, 'd4,Nf6,Bf4,d5,e3,Bf5,Nf3,e6,Nc3,Bd6,Ne5,Nbd7,g4,Bg6,h4,Bxe5,dxe5,Ne4,h5,Nxc3,bxc3,Be4,f3,g5,Bg3,Nc5,fxe4,Nxe4,Bf2,Nxc3,Qd3,Ne4,Qb5+,c6,Qxb7,Qa5+,Ke2', 'Qd2+,Kf3,Qxf2#', 'https://lichess.org/training/MFEqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MFeYq', 'Classical', 'kimiagar1', 1785, 'NetizenErased', 1704, 'd3,d5,Nf3,Nf6,g3,Bg4,Bg2,e6,h3,Bxf3,Bxf3,c6,O-O,Bd6,Bg5,h6,Bxf6,Qxf6,Nc3,Nd7,a3,h5,Re1,O-O-O,e4,Ne5,Bxh5,g6,Bg4,Nxg4,Qxg4,Rh7,h4,Bc5,Re2,d4,Na4,Bd6,b4,Rdh8,Rae1,Qd8,e5,Be7,Re4,g5,Rxd4,Qe8,Nc5,gxh4,Ne4,hxg3,Nxg3,Rh4,Ree4,Rxg4,Rxg4,Qf8,Kf1,Qh6,Ke2,Qc1,Rc4,Qxa3,Ne4,Bxb4,Rg7,Rf8,Ng5,Be7,Nxf7,Qa5,Nh6,Qxe5+,Re4,Qh5+,Ng4,Bh4,f3,Re8,Re5,Qh8,Rg6,Bd8,Rh6,Qg7,Reh5,Qc3,Ne3,a5,Rh7,a4,Rf7,a3,Rhh7,Qb2,Kd2,a2,Nc4,Qb5', 'Nd6+,Kb8,Nxb5,a1=Q,Rxb7+,Ka8,Ra7+', 'https://lichess.org/training/MFeYq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mff67', 'Rapid', 'Samsor', 2022, 'Mtal139999', 2004, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,d6,O-O,Nf6,dxe5,dxe5,Bb5,Bd7,Bxc6,Bxc6,Nxe5,Bxe4,Qe2,Bd6,Ng4,Qe7,Nxf6+,gxf6,Re1,Bd5', 'Qb5+,Bc6,Rxe7+', 'https://lichess.org/training/mff67');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfG7U', 'Rapid', 'shahpatus', 1782, 'ivica403', 1778, 'd4,g6,c4,Bg7,Nf3,Nf6,Nc3,d6,Bg5,O-O,e3,Nbd7,Bd3,c6,O-O,b6,Re1,Bb7,h3,d5,cxd5,cxd5,Qb3,Rc8,Ne5,Nxe5,dxe5,Nd7,f4,Nc5,Qc2,Nxd3,Qxd3,f6,exf6,exf6,Bh4,Re8,Rad1,Qd7,Nxd5,Bxd5,Qxd5+,Qxd5,Rxd5,Rcd8,Rxd8,Rxd8,Kf2,h6,e4,g5,fxg5,hxg5,Bg3,Rd2+,Re2,Rxe2+,Kxe2,b5,Kd3,a6,Kd4,f5+,Ke3', 'f4+,Bxf4,gxf4+,Kxf4,Bxb2', 'https://lichess.org/training/mfG7U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MfGPI', 'Classical', 'peanut88', 1971, 'VadimSokolik', 1935, 'd4,d5,Nf3,e6,g3,c5,c3,cxd4,cxd4,Bb4+,Nbd2,Nf6,Bg2,Nc6,O-O,O-O,Nb3,Bd7,a3,Be7,Nc5,b6,Nxd7,Qxd7,b4,a5,b5,Na7,a4,Ne4,Bb2,Nc8,Ne5,Qd8,f3,Ned6,Nc6,Qd7,Ba3,Nc4,Bc1,Bb4,e4,Ne7,exd5,exd5,Bh3', 'Qxh3,Nxe7+,Bxe7', 'https://lichess.org/training/MfGPI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfGYh', 'Blitz', 'AbsolutelyPerfect', 1945, 'Tormans', 2009, 'e4,d6,d4,g6,Nc3,Bg7,Nf3,Nf6,Bc4,c6,O-O,b5,Bb3,b4,Ne2,Nxe4,Qd3,d5,Ne5,a5,f3,Ba6,Qe3,Nd6,a3,O-O,axb4,axb4,Qf2,Qc7,Re1,Nd7,Qg3,Nxe5,dxe5,Nc4,f4,e6,Nd4,Qb6,Be3,Nxe3,Qxe3,c5,Nf3,d4,Qf2,Bb5,Qh4,c4,Ba2,d3+,Kh1,dxc2,Ng5,h6,Ne4,b3,Nf6+,Bxf6,exf6,Kh7,Re5,Rxa2,Rae1,Rxb2,R5e3,Rh8', 'Qxh6+,Kxh6,Rh3#', 'https://lichess.org/training/mfGYh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MFGZc', 'Rapid', 'AngelOfChess1', 1668, 'spiral07', 1774, 'e4,e6,Bc4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,d3,Nc6,c3,Bd6,O-O,Nge7,a3,O-O,Bg5,f6,Bh4,Qc7,Bg3,Nf5,Bxd6,Qxd6,Nbd2,Rac8,Re1,e5,Nb3,d4,c4,a6,Qd2,Nfe7,Na5,Nxa5,Qxa5,Ng6,b4,Qc7,Qxc7,Rxc7,c5,Rc6,Nd2,Rfc8,Ne4,R8c7,Rac1,Nf4,Rcd1,b6,g3,Nd5,Rc1,h6,Kg2,bxc5,Nxc5,a5,Rb1,axb4,axb4,Nxb4,Rxb4,Rxc5,f4,Rc2+,Kh3,Re7,fxe5,fxe5,Rb5,Rc3,Rbxe5,Rxe5,Rxe5,Rxd3,Rd5,Rd2,Kg4,Kh7,h4,Rd3,Kf4,Kg6,g4,Kf6,g5+,hxg5+,hxg5+,Kg6,Rd6+,Kh7,Ke4,Rd1,Rxd4', 'Rxd4+,Kxd4,Kg6,Ke4,Kxg5', 'https://lichess.org/training/MFGZc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mFh7i', 'Rapid', 'CHESSMASTEP', 2053, 'atttmane', 1996, 'd4,e6,c4,d5,Nc3,c6,Nf3,Ne7,Bf4,Ng6,Bg3,Be7,e3,O-O,Be2,Nd7,O-O,b6,Rc1,Nf6,cxd5,exd5,h3,Bb7,Re1,Rc8,Bd3,c5,Bf5,Rc6,Qa4,Ne4,Nxe4,dxe4,Bxe4,Rc7,Bxc7,Qxc7,Bxb7,Qxb7,dxc5,Bxc5,Red1,b5,Qg4,f5,Qh5,Bb6,Ng5,h6,Qxg6,hxg5,Qxg5,Qe4,Qf4,Qxf4,exf4,Re8,Rd2,a5,Rcd1,Kh7,g3,a4,Rd6,Bc5,R6d5,Ba7,Rxb5,Re2,Rf1,a3,bxa3,Rxa2,Ra5,Bb6,Rxf5,Rxa3,Rh5+,Kg6,Rg5+,Kh7,Rb5,Bd4,Rd1,Ba7,Kg2,Ra2,Rf1,Bd4,Rb7,Bc5,g4,Kg6,Kg3,Ra3+,f3,Ra2,f5+,Kf6,Re1,Bf2+,Kf4,Bxe1', 'g5#', 'https://lichess.org/training/mFh7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfI1Y', 'Rapid', 'manzi', 1754, 'Rojoroca', 2052, 'd4,Nf6,c4,e5,d5,Bc5,a3,Ne4,e3,O-O,Qd3,f5,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/mfI1Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfi68', 'Blitz', 'klapco', 1829, 'FM hectorluis2019', 2540, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d5,e5,Ne4,Nxe4,dxe4,Ng5,c5,Bb5+,Bd7,Bxd7+,Qxd7,Be3,cxd4,Bxd4,Nc6', 'e6,Qxd4,exf7+,Kf8,Ne6+,Kxf7,Nxd4', 'https://lichess.org/training/mfi68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mFIbY', 'Blitz', 'Reigstrat', 1560, 'Azalaletdinov59', 1681, 'e4,e6,Nf3,d5,Nc3,Nf6,d3,c5,e5,Nfd7,Be3,Qb6,b3,Nc6,Na4,Qa5+,Bd2,Qc7,c4,dxc4,dxc4,Ndxe5,Be2,Nxf3+,Bxf3,Bd7,Be3,b6,O-O,Be7,Qc2,O-O,Be4,h6,Qd2,Bd6,Bxh6,Bxh2+,Kh1,Be5,Rad1,Rad8,Be3,f6,f4,Bc8,Qe2,Bd4,Bg6,Bxe3,Qh5,Rfe8,Qh7+,Kf8', 'Qh8+,Ke7,Qxg7#', 'https://lichess.org/training/mFIbY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfND7', 'Rapid', 'RaulBR87', 1977, 'JoeBellows', 2276, 'd4,d5,c4,Bf5,Nc3,c6,e3,Nf6,Nf3,Be4,Nxe4,Nxe4,cxd5,cxd5,Qa4+,Qd7', 'Bb5,Nc6,Ne5', 'https://lichess.org/training/mfND7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfNWy', 'Rapid', 'aodiseo', 1682, 'Jp-Lannister25', 1642, 'd4,Nf6,Bf4,c5,dxc5,Nc6,e3,e5,Bg3,Bxc5,c3,O-O,h3,d5,Nf3,e4,Nd4,Re8,Nxc6,bxc6,Be2,Bd6,Bxd6,Qxd6,Nd2,a5,b3,Ba6,Bxa6,Rxa6,O-O,c5,c4,d4,exd4,cxd4,Qc2,d3,Qb2,Rb8,Qc3,a4,Rfe1,axb3,axb3,Rxa1,Rxa1,Re8,Re1,h5,c5,Qc6,b4,Nd5,Qc4,f5,Rb1,e3,fxe3,Rxe3,b5,Qa8,c6,Qd8,Kf1,Kh8,Re1,Rxe1+,Kxe1,Ne3,Qc5', 'Qh4+,g3,Qxg3#', 'https://lichess.org/training/mfNWy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mFo0k', 'Blitz', 'ylgn', 1845, 'ethanche260026', 1814, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,Nf3,dxe5,Nxe5,g6,c5,Nd5,Bc4,Bg7,O-O,O-O,Re1,c6,Nc3,Nxc3,bxc3,Nd7,Bf4,Nxe5,Bxe5,Bf5,g4,Bd7,Qf3,h6,Bg3,Qa5,Rxe7,Be6,Bxe6,fxe6,Qd3,Kh7,Be5,Rg8,h4,Qd8,h5,Qxe7', 'Qxg6+,Kh8,Qxh6#', 'https://lichess.org/training/mFo0k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mFOOV', 'Rapid', 'DipThot', 2014, 'gvau', 2048, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Bc5,Nb3,Be7,O-O,Nf6,Bg5,b6,N1d2,Bb7,f4,d5,exd5,Nxd5,Bxe7,Qxe7,Qe2,O-O,Rae1,Qh4,Qf2,Qxf2+,Rxf2,Nc6,f5,exf5,Bxf5,Rad8,a3,Rfe8,Rfe2,Kf8,g3,g6,Bd3,f5,Bc4,Nf6,Re6,Ng4,h3,Nge5,Rxe8+,Rxe8,Bd5,Rd8,c4,Nd3,Re6,Na5,Bxb7,Nxb7,Rxb6,Rd7,Rxa6,Nxb2,c5,Nxc5,Ra8+,Ke7,Nxc5,Rxd2,Ra7+,Kd6', 'Rd7+,Kxc5,Rxd2', 'https://lichess.org/training/mFOOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MfPVr', 'Blitz', 'MRTIMM', 1703, 'JellyLuke', 1722, 'g3,d5,Bg2,Nf6,Nf3,Nc6,O-O,Bf5,Kh1,e6,Nc3,Bd6,d3,O-O,Re1,a6,e4,dxe4,dxe4,Bg6,Bg5,Be5,Nxe5,Nxe5,f4,Neg4,Qxd8,Rfxd8,Re2,h6,Bxf6,gxf6,Rd1,Rxd1+,Nxd1,Rd8,Re1', 'Rxd1,Rxd1,Nf2+,Kg1,Nxd1', 'https://lichess.org/training/MfPVr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfQch', 'Rapid', 'Etibar3675', 1847, 'Eddy_Siga', 1850, 'd4,d5,f3,Nf6,Be3,Nc6,Bf2,e5,e3,exd4,exd4,Bd6,a3,Bf5,Bb5,O-O,Bxc6,bxc6,Ne2,Nh5,g4,Bxg4,fxg4,Nf4,Nxf4,Bxf4,Qf3,Re8+,Kf1,Bg5,h4,Bf6,c3,Re4,Nd2,g6,Nxe4,dxe4,Qxe4,Qd6,Re1,Bg7,Re3,Rd8,Bg3,Qd7,Kg2,c5,Rd3,Re8,dxc5,Qb5,Qf3,Qxb2+,Kh3,Qxa3,Rhd1,Qxc5,Rd8,Qe7,Rxe8+,Qxe8,Bxc7,Qe6,Rd8+,Bf8,Qd3,h5,Bd6', 'Qxg4+,Kh2,Qxh4+,Qh3,Qxd8', 'https://lichess.org/training/mfQch');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfquU', 'Rapid', 'AdityaNarayan2117', 1810, 'ahmetfatihotlu', 1808, 'd4,Nf6,c4,d5,Nc3,g6,Nf3,Bg7,e3,Bf5,Qb3,b6,cxd5,O-O,e4,Bg4,Nh4,Nh5,h3,Bd7,e5,Bh8,Bh6,Ng7,O-O-O,Re8,Bc4,Nf5,d6', 'Nxh6,dxc7,Qxc7', 'https://lichess.org/training/mfquU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MFs1i', 'Rapid', 'freehumanity', 2213, 'acaciobn', 1938, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,Bb5+,Nc6,O-O,Bd6,Re1+,Ne7,dxc5,Bxc5,Bg5,f6,Be3,Bxe3,Rxe3,O-O,Nc3,Qd6,Rd3,Be6,Nd4,Bf7,Ba4,a6,Bb3,Ne5,Rd2,b5,Nde2,Rfd8,a4,b4,Ne4,Qb6,N4g3,a5,Nd4,Nc4,Bxc4,dxc4,Ndf5,Nxf5,Nxf5,Bg6,Ne7+,Kf7,Nxg6,hxg6,Rxd8,Qxd8,Qe2,Qd5,Rd1,Re8', 'Qxe8+,Kxe8,Rxd5', 'https://lichess.org/training/MFs1i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfskU', 'Rapid', 'cunneyt', 1871, 'psunny', 1803, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,d4,Bg4,dxe5,Nxe5,Nbd2,O-O,h3,Bh5,g4,Nfxg4', 'Nxe5,Nxe5,Qxh5', 'https://lichess.org/training/mfskU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfskW', 'Rapid', 'ArashEvilxxxxxx', 1849, 'bob25', 1791, 'e4,e6,f4,Qh4+,g3,Qd8,Bg2,d5,Nc3,d4,Nce2,c5,d3,Nc6,Nf3,b6,O-O,Bb7,b3,Bd6,Bb2,e5,fxe5,Nxe5,Nxe5,Bxe5,Nf4,Nf6,h3,O-O,Kh2,Qc7,Qf3,b5,Rac1,c4,c3,cxd3,cxd4,Bxe4,Qf2,Bxd4,Bxd4,Qd6,Bc5,Qe5,Bxf8,Rxf8,Rfe1,Rd8,Qd2,g5,Bxe4,Nxe4,Nh5', 'Nxd2,Rxe5,Nf3+,Kg2,Nxe5', 'https://lichess.org/training/mfskW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfsN8', 'Rapid', 'Krochnoi', 1861, 'Tonicarlos', 1884, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,Bd7,Bc4,Nf6,d3,a6,a4,Bg4,O-O,Nd4,e5,Nh5,Bxf7+,Kd7,e6+,Kc8,h3,Bxf3,gxf3,Ng3,Rf2,Ngf5,Nd5,g6,c3,Nc6,b4,Bg7,Bd2,cxb4,Rb1,bxc3,Nb6+,Kc7,Qb3,cxd2', 'Nd5+,Kc8,Qxb7#', 'https://lichess.org/training/mfsN8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mFSW0', 'Rapid', 'hyucetas', 1966, 'gabrielcn', 1899, 'e4,Nf6,e5,Ng8,f4,g6,Nf3,Bg7,d4,e6,c3,Ne7,Bd3,O-O,O-O,d6,Na3,dxe5,fxe5,c5,Bg5,h6,Be3,Nbc6,Nc4,Nf5,Bxf5,exf5,Nd6,cxd4,cxd4,Ne7,Qd2,g5,Qd3,f4,Bf2,Nd5,h3,f6,Qc4,Be6,Qd3,fxe5,dxe5,Ne7,Rad1,Qa5,Nxb7,Qxa2,Nc5,Bc4,Qc3,Bxf1,Rxf1,Rac8,b3,Nd5', 'Qc4,Kh8,Qxd5', 'https://lichess.org/training/mFSW0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mFvkU', 'Rapid', 'arian63', 2273, 'Tigre41', 2100, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,c5,Ne2,b6,a3,Ba5,Rb1,Na6,Qa4,Bb7,b4,Bc6,Nb5,cxb4,axb4,Nxb4,Rxb4,a6,Nd6+,Ke7,Qb3,Kxd6,Bd2,Bxb4,Bxb4+,Kc7,Nc3,Ne4,c5,b5', 'Ba5+,Kb7,Bxd8', 'https://lichess.org/training/mFvkU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfWM2', 'Rapid', 'RosenPetrov', 1906, 'Daniel005', 1915, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,f5,Nf3,Nf6,Bh4,Nbd7,Nbd2,O-O,Bd3,c6,O-O,b6,c4,Bb7,Rc1,Qe8,cxd5,cxd5,Bb5,a6,Bxd7,Qxd7,Ne5,Bxe5,dxe5,Ne4,Nxe4,fxe4,Qg4,Qf7,Rc2,Rac8,Rfc1,Rxc2,Rxc2,a5,Qg5,Ba6,Qe7,Qxe7,Bxe7,Re8,Bd6,a4,Rc6,Rc8,Rxc8+,Bxc8,a3,Ba6,g4,Be2,h3,Kf7,Kh2,Ke8,Kg3,g6,g5,Kd7,h4,Kc6,Bb4,Kb5,Bc3,Kc4,Bd4,b5,Bc3,Kb3,Kf4,Kc2,Kg3,Kd3,Bd4,Kc4,Bc3,Kd3,Bd4,Bf3,Bc3,Kc4,Bd4,b4,axb4,Kxb4,Bc3+,Kb3,Bd4,Be2,Bc3', 'a3,bxa3,Kxc3', 'https://lichess.org/training/mfWM2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MFWur', 'Rapid', 'reqdjd', 1783, 'armaku', 1781, 'c4,Nf6,d4,g6,e3,Bg7,Nf3,O-O,b4,d6,Nc3,Nbd7,a4,c5,Nd5,cxb4,Nxb4,Qa5,Bd2,Ne4,Be2,Nxd2,Qxd2,Qc7,O-O,Nb6,Qa2,Be6,Rac1,Bd7,a5,Nc8,Nd5,Qd8,c5,e6,Nb4,Qf6,a6,bxa6,c6,Be8,Nxa6,Nb6,Nc7,Rc8,Nxe8,Rfxe8,c7,Nd5,Qxa7,Re7,Ba6,Rcxc7,Qb8+,Bf8,Rxc7,Nxc7,Nd2,Nxa6,Qxd6,Kg7,Ne4,Ra7,Qb6,Qe7,g3,Qb7,Qb1,Qxb1,Rxb1,Nc7,Kg2,Nd5,h4,Be7,Kf3,h6,Nd2,f5,Nc4,Nf6,Rb6,Nh7,Rxe6,g5,Ne5,gxh4,gxh4,Bxh4,Rg6+,Kf8,Rxh6,Bg5,Rg6,Ke8', 'Rg8+,Nf8,Rxg5', 'https://lichess.org/training/MFWur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mfwVP', 'Rapid', 'LeonideZ', 2144, 'RussianFlush777', 1740, 'e4,e5,Nf3,d6,Bc4,Nf6,Ng5,Be6,Nxe6,fxe6,Bxe6,Qe7,Bb3,Nc6,d3,Nd4,O-O,Nxb3,axb3,Qe6,f4,Be7,f5,Qd7,Nc3,c6,g4,a6,g5,Ng8,Qh5+,Kd8,Be3,Nh6,gxh6,gxh6,Kh1,Kc7,f6,Bxf6,Rxf6,Raf8,Raf1,Rxf6,Rxf6,Kb8,Qxh6,Rg8,Rf8+,Rxf8,Qxf8+,Kc7,Ba7,Qh3,Qb8+,Kd7,Qxb7+,Ke6,Qxc6', 'Qf1+,Bg1,Qf3#', 'https://lichess.org/training/mfwVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MFzZh', 'Rapid', 'Elima', 1669, 'KaaN588', 1662, 'e4,c5,Bc4,e6,d3,d5,exd5,exd5,Bb3,Nc6,Nf3,Nf6,O-O,Bd6,Bg5,O-O,Bxd5,Qc7,Bxf6,gxf6,Nc3,Bg4,Qd2,Bxf3,Bxf3,Bxh2+,Kh1,Bf4,Qd1,Nd4,Nd5,Qe5,Re1,Qg5,c3', 'Qh4+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/MFzZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mg0vr', 'Rapid', 'wundermeister', 1647, 'visimpishakiv', 2029, 'e3,d5,d4,Nf6,c4,c6,Nc3,Bf5,h3,Nbd7,g4,Bg6,f4,Be4,Nxe4,Nxe4,h4,e5,dxe5,Bb4+,Ke2,dxc4,Kf3', 'Nxe5+,fxe5,Qxd1+', 'https://lichess.org/training/mg0vr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MG1fv', 'Rapid', 'Darkest_Moment', 1788, 'vanz123', 1708, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Bxc6,Bxc6,Nxe5,dxe5,Nc3,Nf6,d3,Bb4,Bg5,Bxc3,bxc3,O-O,d4,h6,Bh4,g5,Bg3,Nxe4,Bxe5,Nxc3,Qh5,Kh7,f4,f6,fxg5,fxg5', 'Rf7+,Rxf7,Qxf7#', 'https://lichess.org/training/MG1fv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MG1Im', 'Blitz', 'antetokwombo', 2288, 'D4rksqu4rk', 2335, 'Nf3,g6,g3,Bg7,Bg2,d6,O-O,Nc6,d3,Nf6,c3,O-O,Qa4,e5,Qh4,Nd7,Bg5,Bf6,Nbd2,Qe7,Ne4,Bxg5,Nfxg5,f6,Nf3,Nd8,a4,Nc5,Nxc5,dxc5,b4,cxb4,cxb4,Ne6,Rfc1,c6,b5,Bd7,Nd2,cxb5,axb5,Bxb5,Bd5,Bd7,Bxb7,Rab8,Bd5,Qd6,Bc4,Rb7,Ne4,Qe7,Ra6,Kg7,Rca1,Bc8,Rc6,Rc7,Rxc7,Qxc7,Nd2,Bd7,Qe4,a5,Qd5,a4,Ne4,Rb8,Rxa4,Rb1+,Kg2,Qc8,Ra8,Nf4+,gxf4', 'Bh3+,Kf3,Qg4+,Ke3,Qxf4#', 'https://lichess.org/training/MG1Im');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MG1Nk', 'Rapid', 'Pablo91', 1819, 'Nismo555', 1772, 'c4,g6,d4,Bg7,e4,e6,Nc3,b6,g3,Bb7,Bg2,a6,Nge2,d6,O-O,h5,h4,Nd7,Bg5,f6,Be3,Qe7,f4,Nh6,Qc2,Ng4,Bd2,f5,exf5,Bxg2,fxe6,Bxf1,exd7+,Kxd7,Rxf1,Ne3,Bxe3,Qxe3+,Kg2,Rhg8,Qxg6,Bxd4,Qf7+,Kc6,Qd5+,Kd7,Qxd4', 'Rxg3+,Nxg3,Qxd4', 'https://lichess.org/training/MG1Nk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MG7D2', 'Classical', 'mounjid1', 1742, 'capturologist', 1770, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nf3,d6,Nh4,e6,g3,Be7,Nf3,Nf6,Nc3,Qa5,Bd2,Qb4,a3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/MG7D2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MG7PZ', 'Rapid', 'Rouge_Knight', 2032, 'Zag0Rhr', 2011, 'd3,c5,Nf3,Nc6,c3,e5,Qc2,d6,e4,Nge7,Be2,Ng6,h3,Be7,O-O,O-O,Nbd2,f5,Kh2,Nf4,Re1,a6,Nf1,fxe4,dxe4,b5,Ng3,b4,a3,bxc3,bxc3,Rb8,Bc4+,Kh8,Be3,Be6,Bxa6,Bb3,Qd2,c4,a4,Nd3,Reb1,Na5,Bb5,h6,Ra3,Nf4,Bxf4,Rxf4,Ne2,Rf8,Nc1,Bg5,Nxg5,hxg5,Nxb3,cxb3,c4,g4,hxg4,Qh4+,Kg1,Nb7,f3,Nc5,Qxd6,Nxe4,Qxe5,Qf2+,Kh1,Rb6,fxe4', 'Rh6+,Qh5,Rxh5+', 'https://lichess.org/training/MG7PZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mG8z6', 'Rapid', 'deep-Junior', 1674, 'rahmanzivinice', 1932, 'd4,d5,c4,c6,Bf4,Nf6,Bxb8,Rxb8,cxd5,Nxd5,e3,g6,Bc4,Bg7,Bxd5,cxd5,Nc3,O-O,Nf3,Bg4,h3,Bxf3,Qxf3,e6,O-O,a6,Rfc1,b5,Qg3,Qb6,Ne2,Rbc8,Rxc8,Rxc8,Rc1,Rxc1+,Nxc1,Qc6,Nb3,Bf8,Qb8,Kg7,Qe5+,Kg8,Qb8,Kg7,Qe5+,f6,Qb8,Bd6,Qa7+,Kh6,g3,e5,dxe5,fxe5,f4,exf4,exf4,Qc2,Qxa6,Qd1+,Kf2,Qc2+,Kf3,Qe4+,Kf2,Bb4,Qxb5,Be1+,Kf1,Bxg3,Qe2,Qxf4+,Kg2,Qe5,Qf3,Bf4,Qg4,Qxb2+,Kf3,Bg5,h4,Qc3+,Ke2,Qe3+,Kf1,Qd3+,Kg2,Qe4+', 'Qxe4,dxe4,hxg5+', 'https://lichess.org/training/mG8z6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mg985', 'Rapid', 'Nath8973', 1733, 'Possusein3', 1709, 'Nf3,d5,e4,dxe4,Ng5,Bf5,d3,exd3,Qd2,dxc2,Qxd8+,Kxd8,Nxf7+,Ke8,Bc4,cxb1=Q,Rxb1,Bxb1,O-O,h6,Nxh8,g5,Rd1,Bg7', 'Bf7+,Kf8,Rd8#', 'https://lichess.org/training/Mg985');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MgAFS', 'Rapid', 'Khurram7172965', 1566, 'corm123', 1544, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c3,Bg7,Be3,d6,h3,Nf6,Nd2,d5,f3,O-O,Bd3,e6,f4,dxe4,Nxe4,Qb6,Qc2,Nxe4,Bxe4,Nxd4,Bxd4,Bxd4,cxd4,Qxd4,Rd1,Qb6,g4,Rd8,Rxd8+,Qxd8,O-O,f5,gxf5,exf5,Bd3,Be6,Rd1,Rc8,Qe2,Bxa2', 'Bc4+,Bxc4,Rxd8+,Rxd8,Qxc4+', 'https://lichess.org/training/MgAFS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MgbTT', 'Classical', 'Gardista95', 1978, 'Abu-Ghassan', 1914, 'd4,Nf6,Nf3,d5,c4,e6,Nc3,Bb4,e3,Bxc3+,bxc3,O-O,Ba3,Re8,cxd5,exd5,Bd3,Ne4,O-O,Nxc3,Qb3,Ne4,Ne5,Nd2,Qc2,Nxf1', 'Bxh7+,Kh8,Nxf7#', 'https://lichess.org/training/MgbTT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mgCt8', 'Rapid', 'Gersom', 1761, 'Belito2013', 1852, 'd4,d5,Bf4,Nc6,e3,Nf6,Nd2,Bf5,Ngf3,Nb4,Bd3,Bxd3,cxd3,Nxd3+,Ke2,Nxb2,Qb3,Nc4,Nxc4,dxc4,Qxc4,c6,Rhb1,Qd7,Ne5,Qc8,Qxf7+,Kd8,Qc4,Ke8,a4,e6,Rxb7,Qxb7,Qxe6+,Be7,Qf7+,Kd8,Qxg7,Rg8,Nf7+,Kd7,Ne5+,Ke8,Qf7+,Kd8,Qe6,Qb2+,Kf3,Qxa1', 'Nxc6+,Ke8,Qxe7#', 'https://lichess.org/training/mgCt8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MGFah', 'Rapid', 'ptgrs', 1786, 'baselsaleh', 1757, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,Bg4,h3,Bh5,Nc3,Nd4,Nxe5,Bxd1,Bxf7+,Ke7', 'Nd5#', 'https://lichess.org/training/MGFah');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MGfKG', 'Rapid', 'ahappyknight', 1842, 'meachanrudai', 1892, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Nbd2,Nh6,Nb3,Nf5,Bd3,c4,Bxf5,cxb3,Bb1,bxa2,Rxa2,Bd7,b4,a5,Bg5,Ra6,Bd3,Ra7,Qb3,axb4,O-O,Na5,Qb2,b3,Ra3,Bxa3,Qxa3,Nc6,Qd6,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Qa5,Bf6,Rh5,Bg7,Ne7,Bf6,Nc6,Bg7,Ne7,Bf6,Qd8', 'Bxe7,Qxe7,Qb8+,Qd8,Qxa7', 'https://lichess.org/training/MGfKG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MgIh5', 'Blitz', 'FM hectorluis2019', 2438, 'IM IMFAR', 2594, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,Re1,e5,Bxc6,dxc6,d3,Ne7,Nc3,O-O,Be3,b6,h3,f6,Qd2,g5,Nh2,Ng6,Rf1,h6,Ne2,f5,exf5,Bxf5,Ng3,Be6,Rae1,Qd7,b3,Rad8,f3,c4,bxc4,Bxc4,Ng4,Bxa2,c4,Bxc4,Rd1,Qxd3,Qc1,Qb3,Nh5,Bxf1,Rxf1,Rd3,Qxc6,Qf7,Nhf6+,Bxf6', 'Nxh6+,Kg7,Nxf7', 'https://lichess.org/training/MgIh5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MGIuG', 'Rapid', 'Kheee', 1832, 'BangkokMate', 1797, 'e4,Nc6,Nf3,f5,exf5,d5,Bd3,Nb4,O-O,Nxd3,cxd3,Bxf5,Qc2,Nh6,Qc3,Nf7,Nh4,Bg4,Qb3,Bc8,Nc3,c6,Nf3,Bg4,Qxb7,Rc8,Nd4,Rc7,Qa6,Bc8,Qa4,Bd7,Nf3,c5,Qa5,Bc6,Nb5,Rb7,Qxd8+,Nxd8,Nc3,d4,Nb1,Bxf3,gxf3,e5,Kh1,Bd6,Rg1,O-O,b3,Rf6,Rg3,e4,Rh3,exf3,Bb2,Ne6,b4,Ng5,Rh4,a5,bxc5,Bxc5,Bxd4,Bxd4,Rxd4,Rb2,Rd5,Nh3,Rxa5,Rg6,Ra8+,Kf7,Ra7+,Ke8,Ra8+,Kd7,Ra7+,Kc8,Ra8+,Kb7,Nc3,Rg1+,Rxg1', 'Nxf2#', 'https://lichess.org/training/MGIuG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mgJnm', 'Blitz', 'FM Sandstad', 2141, 'diegozalazar', 1959, 'e4,c5,c3,Nf6,e5,Nd5,Bc4,Nb6,Bb3,d6,exd6,e6,d4,Bxd6,dxc5,Bxc5,Qxd8+,Kxd8,Nf3,Ke7,Nbd2,Rd8,Ne4,N8d7,Bf4,Nd5,Bxd5,exd5,Nxc5,Nxc5,O-O-O,Be6,Nd4,Ne4,Rhf1,Rac8,f3,Nc5,Rfe1,h6,Nf5+,Kf6,Nd4,Ke7,g4,Kf8,h4,a6,Kd2,b5,Re2,Na4,Ke1,Re8,Kf2,Kg8,Rde1,Nc5,Re3,a5,a3,a4,Bd6,Nb7,Bb4,Bd7,Kg3,Rxe3,Rxe3,Re8,Rxe8+,Bxe8,Nf5,g6,Ne7+,Kg7,Nxd5,Nd8,Kf4,Ne6+,Ke5,Bc6,Bd6,g5,h5,f6+,Nxf6,Nf4,Ne4,Nd3+,Kd4,Nxb2,Kc5,Bxe4,fxe4,Nc4,Bg3,Nxa3,Kb4,Nc4,Kxb5', 'a3,Kxc4,a2', 'https://lichess.org/training/mgJnm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MGjx9', 'Blitz', 'alistaurus', 1529, 'huang11', 1517, 'e4,e5,Nf3,Nf6,d3,Nc6,Nc3,Bc5,h3,d6,a3,a6,b4,Ba7,Be2,O-O,Nd5,Nxd5,exd5,Nd4,c3,Nxf3+,Bxf3,Qd7,O-O,c6,Bg4,f5,Bh5,f4,dxc6,bxc6,Kh1,Bb7,Qb3+,Kh8,f3,Qf5,Bg4,Qxd3,Bb2,Rf6,Rad1,Qg6,c4,h5,Bd7,Qg3,c5,Rg6,Rd2,dxc5,bxc5,Rb8,Bxe5,Bc8,Bxb8,Bxd7,Bxa7,Bxh3,gxh3', 'Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/MGjx9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mgK8O', 'Rapid', 'ajmer', 1793, 'Chris669', 1863, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Bc4,a6,O-O,g6,Bb3,Bg7,Be3,O-O,Qd2,Ng4,Rad1,Nxe3,fxe3,Ne5,Nf3,b5,Nxe5,Bxe5,Bxf7+,Rxf7,Qd5,Qf8,Rxf7,Qxf7,Qxa8,Qe6,Qd5,Bxc3,bxc3,Kg7,Qxe6,Bxe6,a3,Bc4,Kf2,Kf6,Rd4,Kg5,a4,h5,axb5,axb5,Kf3,Kf6,Kf4', 'e5+,Kf3,exd4', 'https://lichess.org/training/mgK8O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MGLNE', 'Rapid', 'harvkeitel', 1640, 'MarkoMiloradovic', 1777, 'c4,Nf6,d3,g6,g3,Bg7,Bg2,O-O,Nf3,e6,Nc3,d5,cxd5,Nxd5,Nxd5,Qxd5,O-O,Qb5,Rb1,Qd5,e4,Qxa2,Bf4,Qa5,e5,c6,d4,Rd8,Ra1,Qb6,b3,Nd7,Be3,Qb4,Ra4,Qf8,Qa1,a6,Rd1,b5,Ra2,Nb6,Ne1,Bb7,d5,Nxd5,Bxd5,cxd5,Bb6,Rdc8,Rc2,Rxc2,Nxc2,Rc8,Qb2,Qd6', 'exd6,Bxb2,d7', 'https://lichess.org/training/MGLNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mglrj', 'Blitz', 'magentamango', 2333, 'IM manitodeplomo', 2346, 'd4,c5,d5,d6,Nc3,g6,e4,Bg7,g3,Nf6,Bg2,O-O,a4,e6,Nge2,exd5,exd5,Re8,O-O,Na6,Bg5,Nb4,Nf4,h6,Bxf6,Bxf6,Qd2,Bf5,Nd3,Bg5,f4,Bxd3,cxd3,Bf6,Ne4,Bd4+,Kh1,f5,Nc3,Qf6,Rae1,a6,a5,Kf7,Na4,Re7,Nb6,Rae8,Nc4,Rxe1,Rxe1,Rxe1+,Qxe1,Nxd3,Qe6+,Qxe6,dxe6+,Kxe6,Bxb7,Nxb2,Bxa6,Nxc4,Bxc4+,d5', 'a6,dxc4,a7', 'https://lichess.org/training/mglrj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MGN1r', 'Classical', 'Lapera', 1917, 'NicePete', 1905, 'c4,Nf6,g3,c6,d4,d5,cxd5,cxd5,Bg2,Bf5,Qb3,Nc6,Nf3,e6,O-O,Bd6,Nc3,a6,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/MGN1r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mgN6E', 'Rapid', 'Eversonxxxxx', 1760, 'nEEmbLe', 1750, 'e4,e6,d4,d5,exd5,exd5,c3,Nf6,Bd3,c5,dxc5,Bxc5,Nf3,Nc6,O-O,O-O,h3,h6,Be3,Bd6,Nbd2,Be6,Qc2,Qc8,Rac1,Ne5,Nxe5,Bxe5,f4,Bc7,Nf3,Re8,Rce1,Bd7,Nd4,Bxh3,gxh3,Qxh3,Qg2', 'Rxe3,Qxh3,Rxh3', 'https://lichess.org/training/mgN6E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mgNca', 'Rapid', 'emiliasuki', 1745, 'pappubora', 1727, 'c4,Nf6,Nf3,d5,e3,Bg4,d4,c6,h3,Bh5,Nc3,Nbd7,g4,Bg6,cxd5,Nxd5,Bd3,e6,e4,Nxc3,bxc3,Bd6,Qc2,O-O,O-O,Qa5,e5,Bxd3,Qxd3,Bc7,Ng5,f5,Nxe6,fxg4,Nxf8,Rxf8,hxg4,Qd5,f4,b5,Rf2,Nb6,Rh2,g6,f5,Bxe5,fxg6', 'Bxh2+,Kxh2,Rf2+', 'https://lichess.org/training/mgNca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MgnFB', 'Rapid', 'AbdoRedaA', 1772, 'hoseinzadeh1372', 1847, 'e4,b6,Nf3,Bb7,Nc3,a6,g3,e6,Bg2,d6,d4,Qd7,b3,Nc6,Bb2,h5,d5,Na7,dxe6,fxe6,e5,d5,O-O,Be7,a3,h4,b4,hxg3,fxg3,O-O-O,Nd4,Nh6,Bh3,Nf5,Rxf5,Rxh3,Rf7,Nc6,b5,Nxe5,Qe2,Nxf7,Nxe6,Rdh8,bxa6,Ba8,a7,Rxh2', 'Qa6+,Bb7,a8=Q#', 'https://lichess.org/training/MgnFB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mGnn2', 'Rapid', 'lak1ziko', 1781, 'ShyamolSingha', 1765, 'e4,e5,f4,d6,Nf3,Nc6,fxe5,dxe5,Bb5,Bg4,Bxc6+,bxc6,Nc3,Bc5,h3,Bxf3,Qxf3,Nf6,d3,Rb8,Be3,Bxe3,Qxe3,Rxb2,Qc5,Qd6,Qxa7,O-O,Kd2,c5,Rab1,Rxb1,Rxb1,c4,Nb5,Qd7,Qxc7,c3+,Kxc3', 'Rc8,Qxc8+,Qxc8+', 'https://lichess.org/training/mGnn2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MgpQl', 'Rapid', 'wakojako2', 1862, 'kondiz', 1792, 'd4,Nf6,Bf4,d5,e3,Bf5,Bd3,Bxd3,cxd3,e6,a3,Nc6,Qb3,b6,Nf3,h6,Qb5,Qd7,Ne5', 'Nxe5,Qxd7+,Nexd7', 'https://lichess.org/training/MgpQl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MGpRk', 'Blitz', 'Jorge52', 2130, 'josemariagomez', 2090, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,Bxc3+,bxc3,d6,e4,Nbd7,f4,e5,Bd3,Qe7,fxe5,dxe5,a4,c5,d5,O-O,Ne2,Ne8,Ng3,g6,Bh6,Nd6,Bxf8,Nxf8,O-O,b6,a5,Ba6,Qe2,Bb7,Qe3,Kg7,Rf2,Ba6,Qe2,Qg5,Raf1,h5,Rb1,bxa5,Ra1,h4,Nf1,Nb7,Qf3,f6,Ne3,Nd7,Kh1,Rh8,Rg1,Rf8,g3,h3,Bf1,Rh8,g4,Nd6,Rg3,a4,Ra2,Rb8,Rxa4,Rb6,Qf2,Nc8,Qf3,Bb7,Rxh3,Rb1,Rg3,a6,Ra2,Ne7,h4,Qxh4+,Rh2,Qg5,Rgh3,Nf8,Nf5+,gxf5,gxf5,Kf7,Rg3,Qc1,Qh5+,Neg6,fxg6+,Ke7,Rf2,Qe1,g7,Qxf2,gxf8=Q+,Kxf8', 'Qh8+,Ke7,Rg7+,Kd6,Qb8#', 'https://lichess.org/training/MGpRk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mgPzR', 'Blitz', 'neenee52', 2145, 'Rudinator', 2361, 'e4,c5,Nf3,e6,Nc3,Nc6,Bb5,Nge7,O-O,a6,Bd3,b5,b3,Bb7,Bb2,Ng6,Re1,Nf4,Bf1,Nd4,Rc1,g5,Ne5,d6,Nd3,Qf6,Nxf4,gxf4,f3,Rg8,Rb1,Qg5,Kh1,Rg6,Ne2,Nxe2,Qxe2,Rh6,Qf2,Qh5,Qg1,Be7,d4,Bh4,Red1,Bf2,g4,Qh4,Qg2,Bg3,dxc5,Bxh2,cxd6,Bg3+,Kg1,O-O-O,d7+,Rxd7,Rxd7,Kxd7,Rd1+,Ke7,Be5,Qg5,Bd6+,Ke8,Be2,e5,c4,b4,c5,Re6,Rd5,Rh6,Bc4,Rh2', 'Rxe5+,Qxe5,Bxe5,Rxg2+,Kxg2', 'https://lichess.org/training/mgPzR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mGQgz', 'Classical', 'mparker1', 1640, 'Muchacho_rw95', 1746, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,Bg4,Bg5,Nd4,c3,Bxf3,gxf3,Ne6,Be3,Be7,Qd2,O-O,b3,Rfd8,O-O-O,a5,d4,b5,Rhg1,Ba3+,Kc2,a4,Ra1,axb3+,axb3,Bd6', 'Nf6+,Kh8,Nxd5', 'https://lichess.org/training/mGQgz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MGqXb', 'Blitz', 'dgarske1998', 1515, 'Lowkeyindahouse', 1544, 'Nf3,e6,g3,d5,d3,c5,Bg2,Nc6,O-O,Nf6,Nc3,Be7,e4,dxe4,Nxe4,O-O,Nfd2,Nd4,c3,Nc6,Nc4,a6,a4,e5,Bg5,Bg4,Qc2,Bf5,f4,Bg6,f5,Bh5,Bxf6,Bxf6,h3,Kh8,g4,Bxg4,hxg4,Bh4,Ned6,Rb8,Bxc6,bxc6,Ne4,g6,f6,Qd7,g5,Qg4+,Qg2,Qd7,Qh2,Qxd3,Qxh4,Qxc4,Qh6,Rg8,Rf2,Qxe4', 'Qxh7+,Kxh7,Rh2+,Qh4,Rxh4#', 'https://lichess.org/training/MGqXb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mGSu9', 'Classical', 'imafungi', 2055, 'Zontes', 2050, 'e4,c5,d4,cxd4,c3,Qa5,Bd2,Qe5,Bd3,Nc6,Nf3,Qf6,Bg5,Qd6,O-O,e5,Na3,f6,Nc4,Qc7,Bd2,b5,Na3,Bxa3,bxa3,dxc3,Bxc3,a6,Rc1,Nge7,Bb4,Qd8,Bc2,O-O,Bb3+,Kh8,Rc3,a5,Bc5,a4,Bd5,Bb7,Rd3,Rc8,Be6,Nd4,Nxd4,Rxc5,Nf5,Nxf5,exf5,d5,Qh5,Qe7', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/mGSu9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MgUFF', 'Blitz', 'Xie-Djuna', 1689, 'Harolsh', 1760, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,c3,d6,O-O,Na5,Bxf7+,Kxf7,Ng5+,Ke8,f4,c5,fxe5,dxe5,Nd2,Ng4,Ndf3,h6,Nf7,Kxf7,Nxe5+,Kg8,Nxg4,Bxg4,Qxg4,Qxd3,Qe6+,Kh7,Qxe7,Nc6,Qe6,Raf8,Bxh6,gxh6', 'Rf7+,Rxf7,Qxf7#', 'https://lichess.org/training/MgUFF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MGvJ7', 'Rapid', 'kinepirc', 1746, 'nettysek', 1745, 'Nf3,d5,d4,c5,g3,Nc6,Bg2,Bf5,O-O,e6,b3,Nb4,Na3,Nf6,c3,Nc6,Bf4,Qa5,Nb1,Bxb1,Qxb1,Qxc3', 'Bd2,Qxd2,Nxd2', 'https://lichess.org/training/MGvJ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mgYPM', 'Rapid', 'The_Foreigner', 1703, 'Yango72000', 1726, 'd4,d5,Nc3,Nf6,f4,e6,Nf3,Nc6,Ne5,Nxe5,dxe5,Nd7,e4,d4,Nb5,c5,Nd6+,Bxd6,exd6,e5,Bb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/mgYPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MgySd', 'Rapid', 'Emon1412', 1743, 'southpilgrim', 1711, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,Nf6,d5,Ne5,Nxe5,dxe5,Be3,e6,Bb5+,Bd7,Nc3,Bb4,Bxd7+,Qxd7,dxe6,Qxe6', 'Qa4+,Qc6,Qxb4', 'https://lichess.org/training/MgySd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mgYWp', 'Blitz', 'WIM Madeliesje', 2173, 'Rutschenfreak', 2140, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,e6,Be3,Be7,f3,Nbd7,Bd3,a6,Nge2,c5,O-O,O-O,e5,Nd5,Nxd5,exd5,dxc5,Bxc5,Qc1,Qb6,Kf2,Bxe3+,Qxe3,Qxe3+,Kxe3,Nxe5,Kd4,Nxd3,Kxd3,Bf5+,Kd4,Rfe8,Nc3,Rad8,Rfe1,Rxe1,Rxe1,Be6,f4,Kf8,b3,g6,h3,h5,Re5,Rc8,Re2,Rd8,Na4,Ke7,Nc5,Rb8,g4,hxg4,hxg4,Kd6,g5,Bc8,Re5,Be6,a4,Kc6', 'Nxe6,fxe6,Rxe6+', 'https://lichess.org/training/mgYWp');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 23;
-    }
-
-}
\ No newline at end of file
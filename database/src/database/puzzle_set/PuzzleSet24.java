@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet24 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mgzEA', 'Rapid', 'aligurkanmeb', 1908, 'rezaamiri7683', 1603, 'Nf3,d5,c4,Nf6,cxd5,Nxd5,e4,Nb4,d4,c5,d5,Qa5,Bd2,e6,Bc4,exd5,exd5,Bf5,Na3,Bd6,Qe2+,Kd8,O-O,Qc7,Bxb4,cxb4,Nb5,Qb6,b3,Re8,Qd2,Nd7,Qg5+,Be7,Qxf5,Bf6,Rae1,Rxe1,Rxe1,a6,Qxh7,axb5,Bf1,Kc7,Rc1+,Nc5,Qf5,Rxa2,g3,Kb8,Bh3,Nxb3,Qc8+,Ka7,Rf1,Nd2,Nxd2,Rxd2,Qc1,Bg5,Qb1,Qd4,Qf5,Be3,fxe3,Qxe3+,Kh1', 'Qe2,Qf2+,Qxf2,Rxf2,Rxf2', 'https://lichess.org/training/mgzEA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MH0sz', 'Classical', 'dheitkam', 1814, 'chavez_rafael', 1715, 'c4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,h6,e4,b6,Be2,Bc5,Qe5+,Be7,Nd5,d6,Qxe7+,Qxe7,Nxe7,Kxe7,f3,Re8,O-O,Kf8,b3,a5,Bb2,Nd7,Bd3,Nc5,Be2,Bb7,Bc3,Kg8,Bd4,f5,Bxc5,dxc5,Bd3,Rad8,Rad1,fxe4,Bxe4,Rxd1,Rxd1,Bxe4,fxe4,Rxe4,Kf2,Re7,Rd2,Kf7,Kf3,Kf6,g4,g5,h3,Ke6,Rd8,Rd7,Rh8,Rf7+,Ke4,Rf6,Rc8,Kd7,Rg8,Re6+,Kf3,c6,Rg7+,Kc8,Kf2,Kb8,Rf7,b5,Rf5,Kb7,cxb5,Kb6,bxc6,Rxc6,Rf3,Kb5,a3,a4,bxa4+,Kxa4,Ke2,c4,Kd2,Rb6,Rc3,Rb2+,Ke3,Rb3,Kd4,Kxa3', 'Kxc4,Rxc3+,Kxc3', 'https://lichess.org/training/MH0sz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mh0we', 'Rapid', 'adrulfarhan', 2003, 'GutsyCrown', 1669, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Bb4,Qc2,c5,Bg5,cxd4,Nxd4,Nc6,Nxc6,bxc6,cxd5,exd5,e3,O-O,Bd3,h6,Bh4,Bd6,O-O,Bxh2+,Kxh2,Ng4+,Kg3,g5,Bf5,gxh4+,Kxg4', 'Qg5+,Kh3,Bxf5+,Qxf5,Qxf5+', 'https://lichess.org/training/Mh0we');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mh1Fq', 'Rapid', 'ALEX_Gontsov', 1755, 'said77', 1819, 'e4,d6,d4,e6,Nf3,h6,c4,a6,Nc3,Nd7,Be2,Be7,e5,g5,h3,h5,exd6,cxd6,Be3,Bf6,Ne4,d5,Nexg5,Nh6,cxd5,Qa5+,Qd2,Qxd5,Bd3,Nf5,Bxf5,exf5,O-O,Rg8,h4,Rg7,Bf4,Kf8,Nh3,Rg4,Nhg5', 'Bxg5,Bxg5,Qxf3', 'https://lichess.org/training/Mh1Fq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mh35d', 'Rapid', 'Mikey_MouseBS', 1702, 'ROMAXA3', 1820, 'd4,d5,e3,Nc6,c4,Bf5,a3,e5,cxd5,Qxd5,Nc3,Qd8,d5,Na5,e4,Bg6,Qa4+,c6,dxc6,Nxc6,Nf3,f6,Bb5,Qc7,Be3,Bd6,Nd5,Qc8,Rc1,Ne7,Nb4,Bxb4+,Qxb4,O-O,Bc4+,Kh8,Qc3,Bxe4,Rg1,Bxf3,gxf3,a6,Rg2,b5,Be2,Qh3,Bf1,Qxf3,Rg3,Qf5,Ke2,Rac8,Bh3,Qh5+,Bg4,Qxh2,Bxc8,Rxc8,Qe1,Nf5,Rg4,Nxe3,Kxe3,Qh6+,Kd3,Rd8+,Kc2,Nd4+,Kb1,Qh5,Re4,Qf5,Qe3,h6,Ka2,Qe6+,b3,a5,Kb2,a4,b4,Nb3,f4,Rd2+,Rc2,Rxc2+,Kxc2,Qc6+,Kb2,exf4', 'Re8+,Kh7,Qd3+,f5,Qxf5+,Qg6,Rh8+,Kxh8,Qxg6', 'https://lichess.org/training/Mh35d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mh5cs', 'Rapid', 'ivankovian', 2270, 'Suchtl', 2302, 'e4,e6,d4,d5,Nd2,Be7,Ngf3,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,O-O,cxd4,cxd4,O-O,a3,a5,Re1,f6,exf6,Bxf6,Nf1,e5,dxe5,Ndxe5,Nxe5,Nxe5', 'Rxe5,Bxe5,Qh5,h6,Qxe5', 'https://lichess.org/training/Mh5cs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MH6Tn', 'Classical', 'J4Test', 1876, 'Twonkiey', 1815, 'd4,d6,Bf4,Nf6,e3,g6,Nc3,Bg7,h4,h5,Be2,Nc6,f3,Nd7,g4,e5,Bg5,f6,Qd3,Ne7,Bxf6,Bxf6,g5,Bg7,Nd5,Nf5,O-O-O,c6,Nc3,Qe7,dxe5,Nc5,Qc4,Bxe5,f4,Nxe3,Qb4,Bxc3,Qxc3,Nxd1,Qxh8+,Kd7,Bxd1,Kc7,Kb1,Rb8,Ne2,Bg4,Qc3,Rf8,Qa5+,Kb8,Qb4,Bxe2,Re1,Qe3,Rxe2,Qxf4', 'Re8+,Rxe8,Qxf4', 'https://lichess.org/training/MH6Tn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mh7pZ', 'Blitz', 'shahmatpatblog', 1834, 'MariaInfantes', 1968, 'd4,Nf6,Bg5,g6,Bxf6,exf6,e3,Bg7,Bd3,f5,Qf3,O-O,h4,d6,h5,Nd7,hxg6,fxg6,Qh3,Nf6,Qf3,Be6,Qxb7,Bd5,Qb4,Bxg2,Rh2,Rb8,Qc3,Be4,Bc4+,Bd5,Nd2,Kh8,Ne2,Bxc4,Nxc4,Ne4,Qd3,d5,Na5,Rxb2,Nb3,a5,O-O-O,Rxa2,Rdh1,Nf6,Kb1,Ra4,Qb5,Rb4,Qxa5,Qb8,Nf4,Kg8,Nxd5,Rb5,Nxf6+,Rxf6,Qa2,h6,Kc1,Rc6,Nc5+,Kh7', 'Rxh6+,Bxh6,Qf7+,Kh8,Rxh6#', 'https://lichess.org/training/Mh7pZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MH7sD', 'Rapid', 'omaewaa', 1730, 'parapetarte', 1646, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Qe2,a6,Nf3,Nc6,d3,Nb4,Qxe6,Bxe6,Kd2,Nf6,a3,Nbd5,Nxd5,Bxd5,Be2,Bxf3,Bxf3,c6,c3,e6,Kc2,Be7,Bg5,O-O,Rad1,Rfe8,Rhe1,Nd7,Bxe7,Rxe7,h4,Nb6,g4,Rd7,Bg2,Nd5,Bxd5,cxd5,f4,b5,b4,a5,Ra1,a4,Kd2,Rc7,Rac1,Rac8,d4,g6,g5,Kg7,Kd3,h6,Rc2,hxg5,hxg5,Rc6,Re3,f6,gxf6+,Kxf6,Rg3,Rh8,Rcg2,Rh6,Re2,Kf5,Rf2,Rc8,Rg5+,Kf6,Rfg2,Rh3+,R2g3,Rxg3+,Rxg3,Rg8,Ke3,Kf5,Rg5+,Kf6,Rg3,Rh8,Rf3,Kf5,Rg3,Rh5,Kf3,g5,fxg5,Rxg5,Rh3,Kg6,Rg3,Rxg3+,Kxg3,Kf5,Kf3,e5,dxe5,Kxe5,Ke3,Kd6', 'Kd4,Ke6,Kc5', 'https://lichess.org/training/MH7sD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHa80', 'Rapid', 'talez', 1827, 'menugardenpro', 1869, 'd3,e5,c3,d5,Nf3,Nc6,b4,a6,a4,d4,Bb2,dxc3,Bxc3,Bxb4,Bxb4,Nxb4,Nxe5', 'Qd4,Ra3,Qxe5', 'https://lichess.org/training/mHa80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mhAt3', 'Rapid', 'Ravi_Dubey', 1951, 'DYouyou', 1874, 'e4,e5,Bc4,Bc5,Nf3,d6,d3,Bg4,Bg5,Nf6,Nc3,c6,h3,Bh5,g4,Bg6,Qd2,O-O,O-O-O,b5,Bb3,a5,d4,a4,dxc5,axb3,cxb3,Qa5,Qxd6,Nxe4,Nxe4,Bxe4,b4,Qxa2', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/mhAt3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MHBqE', 'Rapid', 'kentt', 1698, 'ali1371', 1746, 'e4,e5,Nc3,Nc6,Bc4,Bc5,a3,Na5,Ba2,Qf6,Qe2,Nc6,Nd5,Qd6,d3,Nd4,Qd2,c6,Ne3,Nf6,Nc4,Qc7,c3,Ne6,Nf3,Ng4,Rf1,d5,h3,dxc4,hxg4,Nf4,Bxc4,Nxg2+,Ke2,b5,Ba2,Nf4+,Ke1,Bxg4,Nxe5', 'Ng2#', 'https://lichess.org/training/MHBqE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHc2B', 'Rapid', 'Mercuryjon', 1651, 'Sachal', 1689, 'Nf3,d5,g3,Nc6,Bg2,Nf6,O-O,e5,d3,Bd6,Nbd2,O-O,e4,dxe4,dxe4,Bb4,c3,Ba5,Qe2,Bb6,Nc4,Bg4,h3,Bxf3,Bxf3,Qe7,Be3,Bxe3,Qxe3,Rad8,Rad1,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,Kg2,Nd7,Be2,Nb6,Nxb6,axb6,f4,exf4,gxf4,f6,Qd3,Qxd3,Bxd3,h6,Kf3,Kf8,h4,Ke7,h5,Kd6,b3,Ne7,Ke3,c5,Bc4,Nc6,Bd5,Kc7,Kd3,Ne7,Kc4,g6,hxg6,Nxg6,f5', 'Ne5+,Kb5,h5', 'https://lichess.org/training/mHc2B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHCH3', 'Rapid', 'Govindpawar', 1677, 'VRchessfoundation', 1691, 'd4,Nf6,f4,g6,Nf3,c5,e3,Bg7,Bd3,b6,Nc3,Bb7,dxc5,bxc5,e4,O-O,Be3,c4,Bxc4,Nxe4,Nxe4,Bxe4,c3,Nc6,O-O,d5,Bb5,Qc7,Ng5,Qb7,Nxe4,Qxb5,Nc5,e6,b4,d4,a4,Qc4,cxd4,Nxd4,Bxd4,Bxd4+,Kh1,Bxa1,Qxa1,Qxb4,Nd7,f5,Nxf8,Rxf8,Qa2,Qe4,Qa3,Rf7,a5,Rc7,Qd6,Rc2,Qd8+,Kf7,Qd7+,Kf6,Qd8+,Kf7,Qd7+,Kf8,Qd8+,Kg7,Qe7+,Kh6,Qf8+,Kh5,Rg1,Qxf4', 'g4+,Qxg4,Rxg4', 'https://lichess.org/training/mHCH3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MHcK4', 'Rapid', 'yasen16', 1870, 'pavel995', 1875, 'd4,e6,c4,c5,d5,exd5,cxd5,d6,Nc3,g6,e4,Bg7,Bd3,Nd7,Qc2,Ne5,Be2,a6,f4,Nd7,Bd3,Ne7,g4,b5,b3,b4,Bd2,bxc3,Bxc3,Bxc3+,Qxc3,O-O,Nf3,a5,h4,Ba6,Bc2,a4,h5,Bb5,hxg6,Nxg6,Ng5,Qa5,Qxa5,Rxa5,Nxh7,Re8,f5,Nge5,g5,axb3,Bxb3,Nd3+,Kd2,c4,Bc2,Rxe4,Nf6+,Kf8,Nxe4,N7e5,Nxd6,Ba6,Bxd3,Nxd3,Rh7,Ne5,Kc3,Rxd5,Ne4,Bb7,Nf6,Rd3+,Kb4,Rd6,Re1,Nd3+,Kxc4,Nxe1', 'Rh8+,Ke7,Re8#', 'https://lichess.org/training/MHcK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHddL', 'Rapid', 'Amitayus', 1772, 'Dogusp', 1766, 'd4,e6,Nf3,b6,Bf4,Bb7,e3,d6,Nbd2,Nf6,Bd3,Nbd7,c3,Be7,h3,c5,Qc2,cxd4,exd4,Qc7,g4,e5,dxe5,dxe5,Bh2,Qc6,O-O-O,e4,Nxe4,Nxe4,Nd4,Qd5,Nb5,Ndc5', 'Nc7+,Kf8,Nxd5', 'https://lichess.org/training/mHddL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHDwx', 'Blitz', 'Stylow', 2317, 'FM Pjotr78', 2466, 'e4,e6,d4,d5,Nd2,Nf6,e5,Ng8,Bd3,c5,c3,Nc6,f4,cxd4,cxd4,Nxd4,Ngf3,Nc6,O-O,Bc5+,Kh1,Nge7,f5,Nxf5,Bxf5,exf5,Nb3,Be7,Bf4,Be6,Nfd4,O-O,Rf3,Nxd4,Nxd4,Bg5,Qd2,Bxf4,Qxf4,Rc8,b3,g6,Qh6,f4,Rxf4,g5,Rf6,Qc7,h3,Qxe5,Rd1,Rc3,Nf3,Rxf3,gxf3,Re8,Rg1,g4,Rf4,d4,hxg4,d3,Kg2,Qe2+,Kg3,d2,Rh1', 'Qe1+,Rxe1,dxe1=Q+', 'https://lichess.org/training/mHDwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHELW', 'Blitz', 'SD-75', 1704, 'Lance153', 1644, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,d6,b3,Nf6,Bb2,Be7,Nc3,O-O,O-O-O,a5,e5,Nxe5,Na4,b5,Bxe5,dxe5,Rxd8,Rxd8,Nc3,a4,Qxe5,Ba3+,Kb1,b4,Be2,bxc3,Qxc3,axb3,cxb3,Bf5+,Ka1,Ne4,Qf3,Nc3,Qxf5,Rd2,Qb1,Bb2+,Qxb2', 'Rxa2+,Qxa2,Rxa2#', 'https://lichess.org/training/mHELW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MHEvL', 'Blitz', 'tEp-tEst', 2347, 'FM jamesARDEN13', 2561, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Nf3,Bg4,h3,Bh5,O-O,e6,Bf4,Nc6,c3,Bd6,Bxd6,Qxd6,Nbd2,O-O,Re1,Rab8,Qe2,a6,Qe3,Bg6,Bxg6,hxg6,Ne5,Qc7,Ndf3,b5,Ng5,Nxe5,dxe5,Nh7,h4,b4,Rac1,bxc3,Rxc3,Qa5,Ra3,Qb4,Nf3,Qxb2,Rxa6,Ra8,Ra7', 'd4,Qxd4,Qxd4', 'https://lichess.org/training/MHEvL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MHfpB', 'Classical', 'Pragyan22', 1720, 'BRENTGG', 1667, 'e4,e5,Nf3,Qf6,Nc3,h5,d3,Bc5,Bg5,Qb6,Qe2', 'Qxb2,Rb1,Qxc3+', 'https://lichess.org/training/MHfpB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MhgZq', 'Classical', 'welcern', 1877, 'MAHMOUDATYAH', 2015, 'e4,c6,d4,d5,e5,Bf5,f4,e6,Be2,c5,c3,Nc6,Nf3,Qb6,O-O,Nge7,Kh1,Be4,dxc5,Qxc5,b4,Qb6,a4,a6,a5,Qa7,Ng5,Bg6,Na3,h6,Nf3,Nf5,Bd3,Be7,Bxf5,Bxf5,Nc2,O-O,Ncd4,Bh7,Be3,Qb8,Qd2,Qc7,Rac1,Rac8,Rfe1,Be4,Nxc6,Qxc6,Nd4,Qc4,Qf2,Rc7,h4,Rfc8,Kh2,Bf8,g4,g6,g5,h5,Qd2,Bg7,Kg3,Re7,Kf2,Qd3,Qxd3,Bxd3,Red1,Bc4,Rd2,Rec7,Rb2,Bf8,Ke1,Be7,Kd1,Kf8,Bd2,Bd8,Ke1,Re7,Ra1,b6,axb6,Bxb6,Be3,Bb5,Kd2,Rec7,Nxb5', 'Bxe3+,Kxe3,axb5', 'https://lichess.org/training/MhgZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MHHA1', 'Blitz', 'MertAka', 1806, 'furschi', 1962, 'd4,e6,c4,c5,Nf3,Nf6,Nc3,cxd4,Nxd4,d5,Bg5,Be7,e3,dxc4,Bxc4,O-O,O-O,b6,Qf3,Nd5,Bxd5,exd5,Bxe7,Qxe7,Nxd5,Qb7,Ne7+,Qxe7,Qxa8,Nd7,Qf3,Nc5,Nf5,Qg5,Ng3,Bb7,Qf5,Qe7,Rfd1,g6,Qg4,Qf6,Nh5,Qxb2,Rab1,Qxa2,Rb4,Qc2,Rbd4,f5,Qg5,Ne4,Qe7', 'Qxf2+,Kh1,Ng3+,Nxg3,Qxg2#', 'https://lichess.org/training/MHHA1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHhwr', 'Rapid', 'snovapampa', 1875, 'dusan47', 1848, 'e3,e5,b3,Nc6,Bb2,Nf6,h3,d6,Nf3,Be7,c4,O-O,d4,exd4,exd4,Re8,Be2,a5,a3,Na7,Nc3,c6,O-O,d5,cxd5,Nxd5,Bc4,Be6,Bd3,b5,Nxd5,Qxd5,Nh2,Qxb3,Qd2,Qd5,Rfe1,a4,Ng4,Bxg4,hxg4,h6,Be4,Qg5,Qd1,Bf6,f3,Rad8,Rb1,Be5,Bh7+,Kxh7,Rxe5,Rxe5,Qc2+,Kg8,dxe5,Qe3+,Kh1,Re8,Rd1,c5,Rd2,Qe1+,Kh2,Qh4+,Kg1,Qe1+,Kh2,c4,Re2,Qh4+,Kg1,Qg5,Bc1,Qd8,Bf4,Qd4+,Be3,Qxe5,Bxa7', 'Qxe2,Qxe2,Rxe2', 'https://lichess.org/training/mHhwr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MhIhw', 'Rapid', 'Not4justice', 1862, 'Ethiodavid', 1990, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,Nc3,Nf6,O-O,Be7,b3,O-O,Re1,d5,e5,Nd7,Na4,Rb8,d3,Qc7,c4,d4,Qe2,f6,exf6,Nxf6,Ba3,Ng4,Bxc5,Rxf3,Qxf3,Qxh2+,Kf1,Qh5,Bxe7', 'Nh2+,Ke2,Nxf3', 'https://lichess.org/training/MhIhw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MHLqh', 'Blitz', 'Manzanarez_Botello', 1868, 'vanderslice', 1857, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,a6,Bg5,Be7,e3,Nbd7,cxd5,Nxd5,Bxe7,Nxe7,Bd3,O-O,Rc1,c5,Bb1,cxd4,Nxd4,Nf6,O-O,b5,Qf3,Rb8,Rfd1,Bb7,Qe2,Ned5,Nf3,Qe7,Ng5,h6,Nh3,Rfc8,a3,Rc7,Nxd5,Nxd5,e4,Nb6,e5,Rbc8,Rxc7,Qxc7,Qd3,Qxe5', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/MHLqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MhlTA', 'Blitz', 'Gillamenace', 2249, 'Romeo_Sadia_III', 2299, 'd4,Nf6,Nf3,d5,c4,c6,Nc3,e6,e3,a6,Qc2,Nbd7,Bd2,Bd6,h3,O-O,a3,dxc4,Bxc4,b5,Ba2,c5,Rd1,Qc7,O-O,Bb7,Rc1,Rac8,dxc5,Nxc5,Bb1,Bxf3,gxf3,Qb7,Kg2,Rc7,b4,Na4,Qd3,Nxc3,Bxc3,Rd8,Bxf6,gxf6,Qxh7+,Kf8,Rxc7,Qxc7,Rd1,Ke7,Bg6,Rf8,h4,Be5,h5,Qc4,f4,Qe2,Rc1,Qg4+,Kf1,Qh3+,Ke2,Qg4+,Kd2,Rd8+,Kc2', 'Qe2+,Kb1,Qb2#', 'https://lichess.org/training/MhlTA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHmwr', 'Blitz', 'IM vizumatv4hoda', 2547, 'GM Gabrielian', 2591, 'e4,c5,c3,d6,d4,Nf6,Bd3,Qc7,Nf3,g6,O-O,Bg7,Re1,O-O,h3,Nfd7,Bg5,Nc6,d5,Nce5,Bxe7,Nxf3+,Qxf3', 'Ne5,Qg3,Qxe7', 'https://lichess.org/training/mHmwr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MhNbr', 'Blitz', 'GeovannyCota', 1560, 'Dohko_de_Libra', 1792, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,h3,Bf5,e3,e6,a3,Bd6,Bd3,Bxd3,Qxd3,a6,O-O,Rc8,Bd2,O-O,Rac1,Bb8,e4,dxe4,Nxe4,Nd5,Neg5,f5,Nxe6,Qd6,Nxf8,Kxf8,Qxf5+,Nf6,Qxc8+,Kf7,Ng5+,Kg6,Rfe1,Nxd4,Qc4', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/MhNbr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mhneO', 'Blitz', 'Donviper', 1651, 'ranjit1971', 1680, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Nbd7,e3,e6,h3,Be7,cxd5,exd5,Bd3,O-O,Nf3,h6,Bh4,Qb6,Qc2,Re8,O-O,Nf8,Rac1,Be6,a3,Rac8,Na4,Qd8,Qb3,b6,Ba6,Rc7,Bg3,Bd6,Ne5,Ne4,Nxc6,Qf6,Bxd6,Nxd6,Ne5,Rxc1,Rxc1,Ne4,Nf3,Bxh3,Qxd5,Bg4,Ne5,Qxf2+,Kh1,Qh4+,Kg1,Qf2+,Kh2,Qh4+,Kg1,Ng3,Qxf7+,Kh8,Ng6+,Nxg6,Qxe8+,Kh7,Bd3,Bh5,Rc6,Qg4,Rc8', 'Qd1+,Bf1,Qxf1+,Kh2,Qh1+,Kxg3,Qh4#', 'https://lichess.org/training/mhneO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mhOdY', 'Rapid', 'viKing555', 1628, 'volt1979', 1651, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Qb6,g3,Nc6,Bg2,Bd6,O-O,Nf6,Re1,Nd7,Nf1,O-O,Qe2,dxe4,dxe4,Nce5,h4,c4,Kh1,Ng4,e5,Nxf2+,Kh2,Ng4+,Kh1,Ndxe5,Nxe5,Nxe5,Bf4,f6,Bxe5,Bxe5,c3,Qc7,Qg4,Rb8,Kh2,b5,Kh3,Re8,Be4,Bb7,Nh2,Bxe4,Rxe4,Qf7,Rf1,Rbd8,Rxe5,h5,Rxh5,e5,Rh6,Rd6,Qg6,Qxg6,Rxg6,Kh7,Rg4,Rd2,b3,cxb3,axb3,Rd3,Rf3,Rxf3,Nxf3,a5,Re4,Rd8,Re3,Rd1,Kg4,a4,bxa4,bxa4,c4,Rc1,Nd2,Rc2,Nb1,Rxc4+,Kf5,Rb4,Na3,Kh6,Re4', 'g6+,Kxf6,Rxe4', 'https://lichess.org/training/mhOdY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mhq0L', 'Rapid', 'lucasarashi', 1728, 'mohamedatef77', 1650, 'e4,c5,Nc3,d6,g3,Nc6,Bg2,Nf6,f4,e5,d3,Nd4,Nf3,Be7,fxe5,Nxf3+,Bxf3,dxe5,O-O,O-O,Bg2,a6,a4,Bd7,Be3,Ng4,Nd5,b6,c4,Re8,Qf3,Be6,Bd2,Nf6,Bc3,Qd6,Nxf6+,Bxf6,Qh5,Bd7,Rf2,g6,Qf3,Re6,b3,Rf8,Bh3,Ree8', 'Bxd7,Qxd7,Qxf6', 'https://lichess.org/training/Mhq0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHqS3', 'Rapid', 'Shafran_ok', 1863, 'Aw205', 1851, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,c3,O-O,d4,exd4,cxd4,Ba7,e5,Ne8,Re1,d6,d5,Nxe5,Nxe5,dxe5,Rxe5,Qf6,Qe2,Bb7,Nc3,Bd4,Bg5', 'Qxe5,Qxe5,Bxe5', 'https://lichess.org/training/mHqS3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHs5G', 'Classical', 'dwakse', 1704, 'kemotiger22', 1681, 'd4,e6,c4,c6,Nc3,Bb4,Nf3,Qb6,a3,Be7,b4,Nf6,Bg5,O-O,e3,d5,cxd5,cxd5,Bd3,Qc7,Qc2,Nbd7,Rc1,a5,b5,Nb6,a4,Nc4,Bxc4,dxc4,O-O,Bb4,Bxf6,gxf6,Ne4,f5,Nf6+,Kh8,Qxc4,Qd8,Ne5,Qxf6,Rc2,Rg8,Rfc1,Qg7,f3,Bd6,Nd3,Qh6,Nf4,Bxf4,exf4,Qxf4,Qc3,Bd7,d5+,Rg7,d6,Qxd6,Rd2,Qb6+,Kh1,Rc8,Qb2,Rxc1+,Qxc1,Qd8,Qd1,f6,Rd6,Re7,Qd4,Kg7,Qa7,e5,Qxb7,e4,Kg1,exf3,gxf3,f4,b6,Re1+,Kf2,Re7,Qa6,Bc8,Rxd8,Bxa6,Ra8,Bb7,Rxa5,Re3,Ra7,Re7,a5,Kf8', 'a6,Bxa6,Rxa6', 'https://lichess.org/training/mHs5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHv5x', 'Rapid', 'ali1988', 1644, 'malimuthu', 1679, 'e4,e5,Bc4,d6,Qh5,Qf6,Nc3,Be6,Bxe6,Qxe6,Nd5,Na6,Nf3,Nf6,Nxf6+,Qxf6,d3,h6,g4,Nb4,Ke2,Nxc2,Rb1,g6,Qh3,a5,g5,hxg5,Qg3,Bh6,Bxg5,Bxg5,Nxg5,Nd4+,Kf1,Rh5,h4,O-O-O,Kg2,Ne2', 'Qg4+,Kb8,Qxe2', 'https://lichess.org/training/mHv5x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHWKv', 'Rapid', 'DDT3000', 2337, 'ttg64', 1960, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,c3,b5,Bc2,Bb6,a4,Bb7,d4,d6,Na3,b4,Nc4,bxc3,bxc3,Qe7,a5,Ba7,d5,Nb8,Rb1,Bc8,Ba4+,Bd7,Rb7,Bxa4,Qxa4+,Qd7,Qc2,O-O,Bg5,Ng4,h3,Nxf2,Rxf2,Bxf2+,Kxf2,Qc8,Rb1,Nd7,Ne3,Nc5,Nf5,Kh8,Be3,Nb7,Qc1,g6,Ne7,Qd7,Nc6,Nd8,Bh6,Re8,Bg5,Kg7,Bxd8,Rexd8,Nxd8,Rxd8,Qb2,f5,exf5,Qxf5,Kg1,Rf8,Kh1,e4,Nd4,Qxd5,Qb7', 'Rf1+,Rxf1,Qxb7,Ne6+,Kh6', 'https://lichess.org/training/mHWKv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MhxyE', 'Rapid', 'glupysh', 1817, 'arcl1ghty', 1979, 'e4,c5,Nf3,e6,Nc3,d5,Bb5+,Nc6,O-O,Nf6,exd5,exd5,Re1+,Be7,Qe2,d4,Na4,Qd6,d3,Nd5,c4,Nc7,Bf4,Qd8,Bxc6+,bxc6,Nxc5,Bg4,Nb7,Qd7,Nd6+,Kf8,Nxf7,Kxf7,Ne5+,Ke8,Nxg4,Kd8,Bxc7+,Qxc7,Ne5,Bf6,Qh5,g6,Nxg6', 'hxg6,Qxg6,Qxh2+', 'https://lichess.org/training/MhxyE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mhY4p', 'Rapid', 'imperator2020', 1797, 'osvaldomorales', 1888, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Nc6,Be3,Bg7,Nb3,O-O,O-O,Bd7,f4,Re8,Qe1,Ng4,Bd2,Nd4,Bd1,Qb6,Kh1,Nxb3,axb3,Bd4,Nd5,Qd8,Qg3,Nf2+,Rxf2,Bxf2,Qxf2,e6,Nc3,a6,Qd4,Bc6,Na4,e5,fxe5,Rxe5,Bc3,Bxe4,Nb6,Rb8,Ra5,Qg5,Qd2,Rf5,Rxf5,Qxf5,h3,Re8,Qh6', 'Qf1+,Kh2,Qxg2#', 'https://lichess.org/training/mhY4p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mhyjX', 'Bullet', 'AbdulKhaliq', 1792, 'Abdulrauf1993', 1835, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,c3,Bd7,d4,exd4,cxd4,Be7,Nc3,O-O,Bg5,Bg4,Bxc6,bxc6,h3,Bh5,Qd3,Bxf3,Qxf3,Nd5,Bxe7,Nxe7,Rac1,Ng6,Rfe1,Rb8,b3,Rb4,Qd3,Re8,Qd2,a5,Na4,Qf6,Rxc6,Rxd4,Qxa5,Ne5,Qc3,Qg6,Kh1,Nxc6,Qxc6,Rdxe4', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/mhyjX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mhyw6', 'Rapid', 'mackmason', 1986, 'Elina26', 2017, 'c4,e6,Nc3,c6,e4,d5,cxd5,cxd5,exd5,exd5,d4,Nf6,Bg5,Nbd7,Nxd5', 'Qa5+,Nc3,Qxg5', 'https://lichess.org/training/Mhyw6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MHywA', 'Blitz', 'Salibeg', 1728, 'bunty4884', 1724, 'e4,c5,Bc4,d6,Nf3,Nf6,d3,g6,Bg5,Bg7,Bxf6,Bxf6,c3,O-O,Qb3,Nc6,h3,Na5,Qa4,Nxc4,Qxc4,Be6,Qa4,Qb6,Qc2,Qc6,O-O,c4,d4,d5,e5,Bg7,Nbd2,Bf5,Qd1,b5,a3,a5,Re1,e6,Nh4,Bd3,Ndf3,f6,exf6,Rxf6,Ne5,Qe8,Nxd3,cxd3,Qxd3,Qf8,Re2,b4,axb4,axb4,Rxa8,Qxa8,cxb4,Qa1+,Kh2,Qf1,Nf3,h6,Qe3,Qa1,Ne5,Qa4,Qc3,Kh7,b3,Qa6,Qd2,Qd6,Kg1,h5,b5,Rf5,Nc6,Bh6,Qd3,Rf7,b4,Qf4,f3,Qc1+,Kf2,h4,Rxe6,Qb2+,Re2,Qc1,Ne5,Rg7,b6,Bf4,Rc2', 'Bg3+,Ke2,Qe1#', 'https://lichess.org/training/MHywA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mHz6V', 'Rapid', 'dule2607', 2001, 'LouisDega', 1735, 'e4,e5,f4,exf4,Bc4,d6,Nf3,h6,d4,Bg4,Bxf4,Be7,Nc3,Nf6,O-O,O-O,Qd2,Bxf3,Rxf3,a6,Raf1,Nbd7,e5,dxe5,dxe5,Nh5,Bxh6,Nxe5,Qxd8,Nxf3+,Rxf3,Raxd8,Be3,Bd6,g4,Nf6,Bg5,Be5,Nd5,Rd7,Bxf6,Bxf6,Rxf6,Rxd5,Rxf7,Rd1+', 'Rf1+,Kh8,Rxd1', 'https://lichess.org/training/mHz6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mi05x', 'Rapid', 'Isidroqt_23', 1624, 'levuongchien', 1623, 'd4,d5,Nf3,Nc6,Bg5,Bf5,c3,f6,Bf4,g5,Bg3,h5,h4,g4,Nh2,Qd7,e3,O-O-O,Bd3,Bg7,O-O,e5,f4,e4,Bb5,a6,Bxc6,Qxc6,Nd2,Bf8,Nb3,Qa4,Be1,Bd6,Bg3,Ne7,Rf2,Kd7', 'Nc5+,Bxc5,Qxa4+', 'https://lichess.org/training/Mi05x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mi1Fq', 'Classical', 'BishopE3mate', 1857, 'tr78', 1867, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bg5,h6,Bf4,d6,Qc2,c6,e4,Qa5,Bd3,Na6,Qb1,Nb4,Be2,d5,a3,Na6,b4,Qd8,e5,Nh5,Be3,Nc7,h3,g5,Nxg5,hxg5,Bxh5,Ne6,h4,dxc4,hxg5,Nxd4,Qh7+,Kxh7,Bxf7+,Bh6,g6+,Kh8', 'Rxh6+,Kg7,Rh7#', 'https://lichess.org/training/Mi1Fq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mi1tg', 'Rapid', 'OsamaSmadi1000', 2013, 'Leonidasaki', 1995, 'e4,d5,e5,d4,c3,Qd5,Qa4+,Nc6,Nf3,Qe4+,Be2,Bd7,d3,Qg6,O-O,O-O-O,Re1,h6,Qa3,e6,b4,dxc3,Qxc3,Bxb4,Qc2,Bxe1,Nxe1,Nxe5,Nf3,Nxf3+,Bxf3,e5,Qb2,c6,Qxe5,Qf6,Bb2,Qxe5,Bxe5,f6,Bg3,Bf5,Nc3,Bxd3,Re1,Ba6', 'Bg4+,f5,Bxf5+,Rd7,Re8#', 'https://lichess.org/training/mi1tg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MI6I8', 'Rapid', 'Veelor', 1753, 'mhmmhm', 1771, 'e4,e5,Nf3,d6,Bc4,h6,h3,Nf6,Nc3,c6,d3,Be7,O-O,Nbd7,b3,Nb6,d4,exd4,Nxd4,Nxc4,bxc4,O-O,Qf3,Nh7,Qg3,Bf6,Nde2,b6,Bxh6,Ng5,Bxg5,Bxg5,Nd4,Bf6,Nxc6,Qc7,Nb4,Qxc4,Nbd5,Bxc3', 'Ne7+,Kh7,Qh4#', 'https://lichess.org/training/MI6I8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MI6ma', 'Classical', 'mehmetemir18', 1787, 'meral2006', 1885, 'd4,Nf6,c4,e6,Nc3,b6,Nf3,Bb7,e3,Be7,Bd2,Nc6,Be2,O-O,O-O,h6,h3,Bd6,Rc1,Re8,b3,Ba3,Rb1,d5,Nb5,Be7,Nc3,dxc4,bxc4,a6,c5,Rb8,cxb6,cxb6,Qb3,b5,Rbd1,Bd6,e4,Na5,Qb1,e5,dxe5,Bxe5,Nxe5,Rxe5,Bf4,Qe7,Bxe5,Qxe5,Qd3,Nxe4,Nxe4,Bxe4,Qe3,Qf5,Bg4,Qg6,f3,Bc2,Rc1,Nc4,Qc3,Ba4,Rfe1,Rd8,f4,Rd3,f5', 'Qb6+,Kh1,Rxc3', 'https://lichess.org/training/MI6ma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mi6PE', 'Classical', 'demen7ed', 1718, 'Romeooww', 1729, 'e4,e5,Bb5,Nf6,Nc3,Bc5,Nf3,Ng4,O-O,c6,Bc4,d6,h3,Nf6,d4,exd4,Nxd4,O-O,Bg5,b5,Bd3,Ba6,Nf5,Nbd7,Qf3,Qc7,Qg3,Kh8,Nxg7,Kxg7,e5,dxe5,Ne4,Nxe4,Bxe4,f6,Bh6+,Kxh6', 'Qh4+,Kg7,Qxh7#', 'https://lichess.org/training/Mi6PE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MiAAi', 'Classical', 'BvAR2', 1761, 'SaigonSinbad', 1859, 'd4,d6,Bf4,Nc6,e3,e6,Nf3,h6,h4,Be7,Nbd2,Nf6,Be2,b6,c3,Bb7,Qa4,O-O,Bb5,Nb8,O-O-O,Ne4,Nxe4,Bxe4,Bd3,Bb7,g4,c5,Rh3,cxd4,Qxd4,Nc6,Qa4,Rc8,Kb1,Na5,g5,h5,Be2,Bxf3,Bxf3,d5,Bxh5,Rc4,Qc2,Bd6,Bxd6,Qxd6,Be2,Rc5,b4,Rc7,bxa5,bxa5,Ka1,Rb8,Rb1,Rxb1+,Qxb1,Rxc3,Rh1,Qe5,Qb2,d4,exd4,Qxd4,Rd1,Qe5,Rd8+,Kh7,Bd3+,g6,Rc8', 'Qe1+,Bb1,Rxc8', 'https://lichess.org/training/MiAAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mIbDA', 'Blitz', 'Lapot59', 1768, 'soo1', 1810, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,e5,d5,O-O,Nge2,Nh5,g3,f5,f4,fxe4,Nxe4,Nf6,fxe5,Nxe4,Bxe4,Bxe5,Qc2,Bg4,Be3,c6,O-O-O,cxd5,Bxd5+,Kg7,Bd4,Qf6,Rhf1,Qe7,Rxf8,Kxf8,Rf1+,Ke8,Rf7,Qd8,Nf4,Nd7,Qf2,Bf5,g4,Bxg4,Ne6,Bxe6,Bxe6,Bxd4,Bxd7+,Qxd7', 'Rf8+,Ke7,Qf7#', 'https://lichess.org/training/mIbDA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MibS1', 'Rapid', 'hellboy500', 1833, 'kindruk', 1885, 'd4,d5,e3,Nf6,Bd3,e6,Nd2,Bd6,g3,O-O,f4,c5,c3,c4,Bc2,b5,Ngf3,a5,O-O,a4,Ne5,Nfd7,Qh5,g6,Qh6,f6,Nxg6,Rf7,Nh4,Bf8,Qh5,f5,Ndf3', 'Nf6,Qg5+,Rg7', 'https://lichess.org/training/MibS1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('miC1Y', 'Rapid', 'VITALION1979', 1630, 'smog78', 1612, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Qe7,Nxf7,Qc5,Nxh8,Qxc4,Nc3,Nxe4,Qf3,Nd4,Qxe4,d5,Nxd5', 'Nxc2+,Qxc2,Qxc2', 'https://lichess.org/training/miC1Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MICHz', 'Blitz', 'NIFTY50', 2316, 'Simonww', 2184, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,d5,e5,Nh6,h3,O-O,Nc3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,a5,Re1,Nf5,g4,Nh6,Kg2,f5,g5,Nf7,h4,e6,h5,gxh5,Rh1,h6,Rxh5,hxg5,Bxg5,Nxg5,Nxg5,Re8,Qd2,c5,Qf4,cxd4,Ne2,d3,Nd4,Rb8,Nc6,Qb6,Nxb8,Qxb8,Qh4,Qxe5', 'Rh8+,Bxh8,Qh7+,Kf8,Qf7#', 'https://lichess.org/training/MICHz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MICtJ', 'Blitz', 'furkankorsa', 1533, 'alexbychok', 1547, 'e4,e5,Nf3,Nc6,Nc3,Bb4,Bb5,d6,Bxc6+,bxc6,O-O,Nf6,d3,Be6,a3,Bc5,b4,Bb6,Be3,Qd7,h3,O-O-O,d4,h6,dxe5,dxe5,Nxe5,Qe7,Qe2,Kb7,Na4,Bxh3,Bxb6,cxb6,Nxc6,Kxc6,Qc4+,Kb7,Nc5+,bxc5,gxh3,Rd4,Qb5+,Ka8,bxc5,Nxe4,Rab1,Qg5+,Kh2,Qf4+,Kg2,Qg5+,Kh2,Qf4+,Kg2,Rb8', 'Qc6+,Rb7,Qxb7#', 'https://lichess.org/training/MICtJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('micTL', 'Rapid', 'velomosh', 1693, 'filthyandgorgeus', 1646, 'e4,Nc6,d3,e5,h3,b6,Qf3,Bb7,Nc3,Bd6,Nd5,Nge7,Qg4,g6', 'Nf6+,Kf8,Bh6#', 'https://lichess.org/training/micTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mId2T', 'Classical', 'DM2204', 1997, 'metalson', 2055, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bg4,Be2,e6,O-O,Be7,Be3,c6,Ne5,Bxe2,Qxe2,Nbd7,f4,O-O,Rad1,Bb4,f5,exf5,Rxf5,Bxc3,bxc3,Nd5,c4', 'Nc3,Qd3,Nxd1', 'https://lichess.org/training/mId2T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MIDHB', 'Rapid', 'Rubi12', 1700, 'felixmccleod', 1629, 'e4,d6,Nf3,Nf6,e5,dxe5,Nxe5,Ne4,Qe2,f5,Qf3,e6,Bd3,g6,Bxe4,Bg7,Nxg6,hxg6,Bxb7,Bxb7,Qxb7,Nd7,Qc6,Ke7,d3,Bf6,Be3', 'Bxb2,Bg5+,Nf6,Nd2,Bxa1', 'https://lichess.org/training/MIDHB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mIEm6', 'Blitz', 'hipalbatross', 1540, 'ecmoraes', 1536, 'd4,d5,c4,Bf5,cxd5,Qxd5,Nc3,Qc6,Nf3,e6,Ne5,Qb6,e4,Bg6,Be3,Bb4,Qa4+,c6,d5,Bxc3+,bxc3,Qb5,Qxb5,cxb5,Bxb5+,Kd8,Nxg6,hxg6,c4,a6,Ba4,Nf6,f3,b5,cxb5,axb5,Bb6+,Kc8,Bxb5,exd5,Rc1+,Kb7,Bd4,dxe4,O-O,Rxa2,Bxf6,gxf6,Bc4,Rb2,Bd5+,Kb6,Bxe4,f5,Bd3,Nc6,Rb1,Rxb1,Rxb1+,Kc5,Rc1+,Kd4,Rd1,Ke5,g3,f4,Re1+,Kd4,Rd1,fxg3,Bxg6+,Ke5,Re1+,Kf6,Be4,gxh2+,Kh1,Ne5,Re2,Kg5,Rg2+,Kf4,Rxh2', 'Rxh2+,Kxh2,Nxf3+,Bxf3,Kxf3', 'https://lichess.org/training/mIEm6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MIfco', 'Rapid', 'Pavel1177', 1728, 'vvd6132027', 1807, 'e4,c5,e5,e6,f4,Ne7,d3,Nbc6,Be3,Ng6,Nc3,Be7,g3,O-O,h4,d6,h5,Nh8,exd6,Bxd6,Ne4,e5,Nxc5,exf4,gxf4,Qe7,Ne4,h6,Qd2,Bg4,Be2,Bxe2,Nxe2,f6,O-O-O,Nf7,Rhg1,Nfd8,f5,Ne5,Bxh6,Rf7,Nxd6,Qxd6,Bxg7,Rxg7,Rxg7+,Kxg7,Rg1+,Kh7,Nf4', 'Nf3,Qe3,Nxg1', 'https://lichess.org/training/MIfco');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mIFtW', 'Classical', 'Zamperlini', 1668, 'cowcium', 1692, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,fxe4,dxe4,Bc5,O-O,Nf6,Bxc6,bxc6,Nxe5,Qe7,Nd3,Nxe4,Nxc5,Nxc5,Re1,Ne6,Nd2,O-O,b3,Qc5,Nc4,Qxf2+,Kh1,d6,Be3,Qh4,Na5,Bd7,c4,Nf4,Bxf4,Rxf4', 'g3,Qh3,gxf4', 'https://lichess.org/training/mIFtW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mIGiZ', 'Rapid', 'Ziploc006', 1703, 'amid-008', 1654, 'e3,e5,d3,d6,Be2,Nf6,a3,Be6,b4,a6,Bb2,Be7,Nd2,O-O,Rc1,b5,c4,c5,bxc5,dxc5,Bxe5,Nc6,Bb2,b4,a4,a5,Ngf3,h6,O-O,Na7,d4,cxd4,Bxd4,Nc8,c5,Bd5,Qc2,Na7,e4,Bc6,Bxf6,Bxf6,e5,Bg5,Nxg5,Qxg5,Nf3,Bxf3,Bxf3,Rab8,Rfe1,Rfe8,c6,Rbc8,c7,Re7,Bb7,Rcxc7,Qxc7,Rxc7,Rxc7,Qd2,Rec1,b3,Be4,g6,f4,Qe3+,Kh1,Qxe4,Rxa7,Qxf4,Rb1,Qxa4,Rb7,Qe4,R7xb3,Qxe5,Rb5,Qe4,h3,a4,Ra1,Qc4,Ra5,g5,R5xa4,Qe2,Ra8+,Kg7,Rb8,Qe5,Raa8,Kg6,Rg8+,Kh5,Rh8,Qd5,Rag8,f5,Rg7,Kh4,Rxh6+,Kg3,Rxg5+,Kf2,Rf6', 'Qd1+,Kh2,Qg1#', 'https://lichess.org/training/mIGiZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mIhcX', 'Rapid', 'irshadkhan555', 1708, 'zeyad_hanafy', 1709, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,c3,d6,d4,O-O,dxe5,dxe5,b4,Bb6,Ba3,Re8,Ng5,Be6,Bxe6,fxe6,b5,Na5,Qxd8,Raxd8,Nd2,h6,h3,hxg5,Nf3,Nxe4,Nxe5,Nxc3,Ng6,Nxb5,Be7,Rc8,Bxg5,Nc6,Rac1,Nbd4,Nf4,e5,Nd5,g6,Nf6+,Kf7,Nxe8,Ne2+,Kh1,Nxc1,Nf6,Nxa2,Rd1,Nd4,Nd7,c5,Nxe5+,Kg7,Ng4,a5,Rb1,Nb4,Bf6+,Kf7,Bh4,a4,Ne5+,Kg7,Nd7,Rc6,Re1,Ne6,Ne5,Rc8,Nc4,Rc6,Rd1,a3,Rd7+,Kh6,Ne5,a2', 'Ng4+,Kh5,Rh7#', 'https://lichess.org/training/mIhcX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mim2l', 'Blitz', 'LM Tinhau', 2162, 'iloveblitz', 2229, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Nc6,f3,h5,Qd2,e6,O-O-O,Be7,Kb1,Qa5,Nb3,Qc7,g3,Bd7,f4,Ng4,Bg1,Na5,Nxa5,Qxa5,h3,Nf6,e5,dxe5,fxe5,Nd5,Nxd5,Qxd2,Rxd2,exd5,Bg2,Bg5,Rd1,Bc6,Bxd5,Bxd5,Rxd5,Ke7,h4,Bh6,Bc5+,Ke6,Rhd1,Rac8,Bb4,Rc4,Bc3,Rhc8,Rd7,R4c7,R7d6+,Kf5,Rf1+,Kg4,Rd4+,Kxg3,Be1+,Kg2,Rf2+,Kg1,Re2,Kf1,Rf2+,Kxe1,Rh2,Be3,Re4,Kf1,Rxe3,Rc4,Rd3,Re4', 'Rd1+,Re1,Rh1+', 'https://lichess.org/training/Mim2l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mImeH', 'Rapid', 'kontaxis91', 1763, 'rachid3', 1805, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,Bc5,Nbd2,d5,exd5,Nxd5,Nf1,Bg4,h3,Bh5,Ng3,Bg6,O-O,O-O,Ne4,Bb6,Re1,Kh8,a4,a6,Qc2,f5,Ng3,e4,dxe4,fxe4,Nxe4,Rf4,Bxf4,Nxf4,Rad1,Qf8,Qc1,Nxh3+,gxh3,Qxf3,Rd3,Qf5,Rg3,Rf8,Qd2,Ne5,Bd3,Nf3+,Rxf3,Qxf3,Kh2,Bxe4,Rxe4,Qxf2+,Qxf2,Rxf2+,Kg3,Rf8,Re7,h5,Kh4,Bf2+,Kxh5,Rf5+,Kg6,Rf6+,Kh5,Rh6+,Kg5', 'Bh4+,Kg4,Bxe7', 'https://lichess.org/training/mImeH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mImHD', 'Rapid', 'ratmanx', 1898, 'Shudinanto', 1994, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,Nc3,a6,a3,Nf6,Bg5,h6,Bh4,g5,Bg3,Be6,Bxe6,fxe6,Qd2,Qd7,O-O-O,b5,Ne2,b4,a4,b3,c3,Ne7,Rde1,Qxa4,Kd1,Ng4,d4,exd4,Nexd4,e5,Ne6,Bb6,h3,Nf6,Qd3,Qa1+,Ke2,Qxb2+,Nd2,Kf7,Qc4,d5,exd5,Nexd5,Bxe5,Rhe8,Rb1,Nf4+,Bxf4,Rxe6+', 'Qxe6+,Kxe6,Rxb2', 'https://lichess.org/training/mImHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MiMk8', 'Rapid', 'Colren', 1699, 'rwmmir', 1706, 'd4,d5,c4,dxc4,a4,Nf6,Nc3,e6,e4,Bb4,Qc2,Bxc3+,bxc3,Bd7,Bxc4,Nc6,Nf3,O-O,O-O,a6,Bf4,Re8,a5,b5,Bb3,Ne7,e5,Nfd5,Bd2,Bc6,c4,bxc4,Bxc4,Qd7,Ng5,g6,Qd3,Bb5,Bxb5,axb5,Qh3,h5,a6,Qc6,a7,Qb6,Ne4,Kg7,Nc5,Nf5,Bg5,Rxa7,Rae1,c6,Rd1,b4,Bf6+,Nxf6,exf6+,Kxf6,Ra1,Rae7,Ra6,Qb5,Qb3,Nxd4,Ne4+,Ke5,Qg3+,Kd5,Nc3+,Kc5,Nxb5', 'Ne2+,Kh1,Nxg3+,hxg3,Kxb5', 'https://lichess.org/training/MiMk8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mImpQ', 'Rapid', 'Meridy', 1711, 'Coomassie', 1664, 'e4,e5,f4,exf4,Nf3,Bc5,Bc4,d6,d4,Bb4+,c3,Ba5,O-O,Bg4,Bxf4,Qf6,Bg5,Bxf3,Qxf3,Qxf3,Rxf3,f6,Bh4,Nd7,Nd2,O-O-O,Be6,Re8,Bh3,Re7,Nc4,Bb6,Nxb6+,axb6,Re1,Kb8,Rfe3,b5,e5,dxe5,dxe5,Nxe5,Bg3,Nc6,Be6,Nh6,Bb3,Rhe8,Rxe7,Rxe7,Rxe7,Nxe7,h3,Nhf5,Bf2,Nd6,Bc2,h6,b3,Nd5,Be1,Ne3,Bg6,Kc8,Kf2,Nd5,Bd2,Kd7,Kf3,Ke6,Bd3,c6,a4,bxa4,bxa4,Nf7,c4,Ne5+,Ke2,Nxd3', 'cxd5+,Kxd5,Kxd3', 'https://lichess.org/training/mImpQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mImXA', 'Classical', 'evsolmin', 1712, 'INternationale711', 1681, 'd4,d5,f4,Bf5,Nf3,h6,Nc3,e6,e3,a6,h3,Nf6,Ne5,Bb4,Bd2,b5,g4,Bxc3,Bxc3,Be4,Rg1,Qe7,Bd3,b4,Bxe4,bxc3,Bd3,cxb2,Rb1,Qb4+,Qd2,Qxd2+,Kxd2,O-O,Rxb2,Nfd7,Rgb1,Nxe5,dxe5,Nc6,Rb7,Rfc8,h4,Kf8,g5,hxg5,hxg5,Ke7,R1b6,Na5,Bxa6,Rxa6,Rxa6,Nxb7,a4,Nc5,Ra5,Ne4+,Kd3,f6,exf6+,gxf6,g6,Ng3,c4,Rd8,c5,Nf5,Ra7,Rc8,a5,Kf8,a6,Kg7,Rb7,Ne7', 'a7,Nc6,Rxc7+,Rxc7,a8=Q', 'https://lichess.org/training/mImXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('miN1w', 'Blitz', 'BandidodaBMX', 1878, 'WCM kukola', 2112, 'e4,c5,d4,d6,c3,cxd4,Bc4,dxc3,Nxc3,Nc6,Nf3,e6,Bg5,Be7,Qd2,Nf6,O-O,O-O,h3,e5,a3,a6,Rad1,b5,Bd3,Bb7,Bb1,h6,Bxh6,gxh6,Qxh6,Nh7,h4,Nd4,Nd5,Nxf3+,gxf3,Kh8,Kh1,Bxh4,Rg1,Bg5,Qh5,Bc8,Rg3,f6,Rdg1,Qe8,Qxe8,Rxe8,Kg2,Be6,Ba2,Rg8,Kf1,Bf4,Rh3,Rxg1+,Kxg1,Rg8+,Rg3,Bh3', 'Rxg8+,Kxg8,Nxf4+,Kg7,Nxh3', 'https://lichess.org/training/miN1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MIoZi', 'Rapid', 'kheirallah', 1886, 'endymion79', 1900, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,Nf3,Bf5,Nc3,Nc6,Bd3,Qd7,Bxf5,Qxf5,c5,dxc5,dxc5,Rd8,Qb3,Nxe5,cxb6,Nxf3+,gxf3,Qxf3,Rg1,axb6,Be3,e6,Qb5+,Qc6,Qxc6+,bxc6,a3,Bd6,Rxg7,Bxh2,Ne2,h5,Bf4,Bxf4,Nxf4,h4,Ke2,h3,Rh1,h2,Rg2,Rd4,Ke3,e5,Rhxh2', 'Rxh2,Rxh2,Rxf4', 'https://lichess.org/training/MIoZi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('miRJa', 'Rapid', 'pogran0083', 1823, 'KGjaba', 1831, 'b3,e5,Bb2,Nc6,a3,d5,h3,Be6,g3,Bd6,Bg2,Qd7,e3,O-O-O,Ne2,f5,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Qxa7,Qc6,c4,Bc5,Qa8+,Kd7,Qa5,Kc8,Bxf6,gxf6,O-O,d4,Qa8+,Kd7,Qa5,Qb6,Qxb6,Bxb6,Rd1,Kc8,Ra2,dxe3,Rxd8+,Rxd8,fxe3,Bxe3+,Kh2,f4,Re2,Rd3,gxf4,Bxf4+,Kg1,Rd1+,Kf2,Bd7,Nc3,Rd3,Nd5,Bg5,Rb2,Bxh3,Be4,Bh4+,Ke2,Rg3,Rb1,f5,Ne7+,Kb8,Nxf5,Bg4+,Kd2,Bg5+,Kc2,Rh3,Nd4,Bf6,Nb5,h5,Rf1,Rh2+,Kb1,Be5', 'Rf8+,Bc8,Bf5', 'https://lichess.org/training/miRJa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mit2Y', 'Blitz', 'NM panpeter365', 2058, 'Big-Master', 2340, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,Be3,h6,Be2,c6,O-O,Qc7,d5,Be7,dxc6,bxc6,Qd2,g5,h3,Nf8,Rad1,Ng6,Nh2,Nf4,f3,h5,Bxf4,gxf4,Kh1,Rg8,b4,Be6,b5,Rd8,bxc6,Kf8,Bb5,Qb6,Ba4,h4,Nd5,Nh5,Nxb6,Ng3+,Kg1,d5,Nxd5,Bc5+,Rf2,Bxh3,c7,Rc8,Ng4,Bxg4,fxg4,h3,Kh2,hxg2,Rxg2', 'Rh8#', 'https://lichess.org/training/Mit2Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MitCm', 'Blitz', 'ryancadano', 1570, 'Igorsherihov', 2032, 'd4,e6,g3,d5,Bg2,Nf6,b3,h6,Bb2,Bd6,Nd2,O-O,Ngf3,b6,c3,Bb7,Rb1,Nbd7,O-O,c5,Re1,Rc8,c4,cxd4,Nxd4,a6,Rc1,Be5,cxd5,Nxd5,Rxc8,Qxc8,Bxd5,Bxd5,Qc1,Nc5,N4f3,Bxb2,Qxb2,Bb7,Kg2,Qc6,Rc1,Qd5,Qc3,Rc8,Qe3,g5,Nc4,Nd7,Rc2,b5,Rd2,Qf5,Nd6,Bxf3+,exf3,Qc5,Qxc5,Rxc5,Ne4,Rc7,Nd6,f5,Ne8,Ra7', 'Rxd7,Rxd7,Nf6+,Kf8,Nxd7+', 'https://lichess.org/training/MitCm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MIuci', 'Rapid', 'krzysiekstasilas', 1800, 'railroadman', 1804, 'e4,e5,f4,d5,fxe5,Bc5,exd5', 'Qh4+,g3,Qe4+,Qe2,Qxh1', 'https://lichess.org/training/MIuci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MIupy', 'Rapid', 'Stanislaw1231', 1757, 'frad', 1861, 'e4,c5,Bc4,e6,Nf3,Nc6,c3,d5,exd5,exd5,Bb5,Qe7+,Be2,Nf6,O-O,Be6,d4,Qc7,Re1,Be7,Na3,a6,Nc2,O-O,Be3,c4,h3,Bd6,Qd2,Ne4,Qc1,Rfe8,Ng5,f5,Bf3,f4,Nxe4,dxe4,Bxe4,fxe3,Qxe3,Bf4,Qf3,Bf7,d5,Ne7,Nb4,Bd6,Nc2,Bg6,Nd4,Bxe4,Rxe4,Rf8,Qg4,Bc5', 'Ne6,Bxf2+,Kh1', 'https://lichess.org/training/MIupy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('miVfN', 'Blitz', 'Fussballfater', 2119, 'FM PetarBosnjak', 2398, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Nb6,b3,Nc6,Bb2,Be6,Nf3,f6,O-O,Qd7,Rc1,O-O-O,d3,Bh3,Ne4,h5,Re1,Bxg2,Kxg2,h4,gxh4,Nd5,e3,Ndb4,d4,Qg4+,Ng3,exd4,Nxd4,Qxh4,Nf1,Qh3+,Kg1,Ne5,a3,Rxd4,exd4,Nf3+,Kh1,Qxh2+,Nxh2', 'Rxh2#', 'https://lichess.org/training/miVfN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MIVlv', 'Rapid', 'ChoiTaek', 1775, 'AAFF', 1759, 'e4,d5,Nc3,Nf6,exd5,Nxd5,g3,Nxc3,dxc3,Qxd1+,Kxd1,Nc6,Bg2,Bg4+,Ne2,Rd8+,Ke1,Ne5,Bxb7,c6,Bf4', 'Nf3+,Kf1,Bh3#', 'https://lichess.org/training/MIVlv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('miVsv', 'Blitz', 'Dmitry_Gritsenko', 2440, 'CM AlexZambrano', 2487, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,exd6,Nc3,Be7,Bd3,O-O,Be3,Nc6,b3,Bf6,Nge2,Bg4,O-O,Re8,Qd2,d5,c5,Nc8,f3,Bh5,Nf4,Bg6,Bxg6,Rxe3,Nfxd5,Bxd4,Nxe3,hxg6,Kh1,N8e7,Rad1,Bxc5,Ne4', 'Qxd2,Rxd2,Bxe3', 'https://lichess.org/training/miVsv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mIWTK', 'Rapid', 'VerixovRoman', 1730, 'dmytromr', 1719, 'd4,c6,e4,d5,e5,Bf5,f4,e6,Bd3,Bxd3,Qxd3,Ne7,Nf3,Nd7,Bd2,Rc8,Bb4,c5,dxc5,Nxc5,Qb5+,Qd7,Qxd7+,Kxd7,c3,Nf5,Bxc5,Rxc5,b4,Rc4,g3,Ne3,Kd2,Nf5,a4,Be7,Na3,Rc7,Nb5,Rc4,Nxa7,Ra8,Nb5,Re4,Rhe1,Rc4,a5,Rac8,Rec1,f6,a6,bxa6,Rxa6,fxe5,Nxe5+,Ke8,Nxc4,dxc4,Rxe6,Rd8+,Kc2,Kf7,Re4,Rd3,Rd1,Ne3+,Kc1,Rxd1+,Kb2,Rd2+,Ka3,Nc2+,Ka4,Rd8,Rxc4,Ra8+,Kb3,Ne3,Rc7,Nd5,Rd7,Rb8,Na7,Nb6', 'Rxe7+,Kxe7,Nc6+,Kd6,Nxb8', 'https://lichess.org/training/mIWTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MIxbg', 'Rapid', 'StupidDonkeySoska', 1948, 'Sn_D', 1890, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,Nf6,Nc3,d6,Bg5,h6,Bxf6,Qxf6,Nb5,Bxf5,exf5,Rc8,Be2,a6,Nc3,Qxf5', 'Bg4,Qg6,Bxc8', 'https://lichess.org/training/MIxbg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('miXrr', 'Rapid', 'Achilleas_Noutsos', 1851, 'Hange_Zoe1', 1853, 'd4,Nf6,c4,e6,e3,Bb4+,Nc3,c5,dxc5,Bxc5,Nf3,O-O,Bd3,d5,cxd5,exd5,O-O,Nc6,a3,d4,exd4,Nxd4,Nxd4,Bxd4,Ne2,Bb6,Qc2,h6,Rd1,Qe7,h3,Bd7,Nc3,Qc5,Be3,Qc6,Bb5,Qc8,Bxb6,axb6,Bxd7,Nxd7,Rac1,Nc5,Nb5,Qc6,Nd4,Qg6,Qxg6,fxg6,Rc3,Rf6,Nb5,Raf8,f3,R8f7,Rd6,Nd7,Rcd3,Ne5,Rd8+,Kh7,Re3,Nc4,Ree8,g5,b3,Na5,Nd4,Nc6,b4,Nxd8,Rxd8,Rc7,Kh2,Rc3,Ra8,Rf7,Kg3,Rd7,Ne6,Rdd3,Rb8,Rxa3,Rxb7,Rd6,Rxg7+,Kh8,Rg6,Kh7', 'Nf8+,Kh8,Rxd6', 'https://lichess.org/training/miXrr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MIYHZ', 'Classical', 'twodoors', 1847, 'Gold_Serpent', 1986, 'e4,c5,Nf3,g6,Bc4,Bg7,O-O,Nc6,Nc3,e6,Re1,Nge7,a3,O-O,Ne2,d5,exd5,exd5,Ba2,Bg4,Nf4,Nd4,d3,Nxf3+,gxf3,Bc8,Qe2,Bf6,Be3,b6,c3,Bb7,Rad1,d4,cxd4,cxd4,Bd2,Nd5,Qe4,Nxf4,Qxf4,a5,Re2,Ra7,Rde1,Bc6,b4,a4,Qg4,Bd5,Bh6,Bxa2,Bxf8,Be6,Rxe6,fxe6,Bh6,Re7,Qf4,Bg7,Bg5,Rf7', 'Qxf7+,Kxf7,Bxd8', 'https://lichess.org/training/MIYHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('miYQt', 'Blitz', 'jbsay', 1906, 'warrick150', 1912, 'd4,e5,dxe5,Nc6,Nf3,d6,exd6,Bxd6,Bg5,Nf6,e3,Bg4,Be2,Qe7,O-O,O-O-O,a4,Bxh2+,Kxh2,Rxd1,Rxd1,h6,Bf4,g5,Bg3,Bxf3,Bxf3,Ne5,Bxe5,Qxe5+,g3,Qxb2,Nd2,Rd8,Ne4,Rxd1,Rxd1,Nxe4', 'Bg4+,f5,Bxf5+,Kb8,Rd8#', 'https://lichess.org/training/miYQt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MJ1AO', 'Rapid', 'Rodri14', 1732, 'Liszt1811', 1824, 'e4,e5,d3,Nc6,Nf3,Bc5,Be2,d6,Nc3,f5,exf5,Bxf5,Na4,Bb4+,c3,Ba5,b4,Bb6,Nxb6,axb6,O-O,Nf6,Bg5,O-O,Nd2,h6,Bh4,Qd7,f4,Rae8,fxe5,Rxe5,Bf3,Bxd3,Re1,Rxe1+,Qxe1,Re8,Qg3,Qf5,Bxf6,Qxf6,Bxc6,Qxc3,Bd5+,Kh8,Rd1', 'Qd4+,Qf2,Qxd5', 'https://lichess.org/training/MJ1AO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJ1N6', 'Rapid', 'filixius', 2068, 'Loqan', 2020, 'c4,c6,e4,d5,cxd5,cxd5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,Qa4,Bd7,Qc2,e5,O-O,Bd6,Ng5,h6,Bc4,Qc5,Nxf7,Rf8,Nxd6+,Qxd6,Qh7,Qf6,d3', 'Bf5,Qxf5,Qxf5', 'https://lichess.org/training/mJ1N6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mj3VW', 'Blitz', 'KrystianKuzmicz', 2541, 'FM DamageDoers', 2513, 'e4,d5,exd5,Qxd5,Nf3,Qd8,d4,Nf6,Be2,a6,O-O,b5,a4,b4,c4,bxc3,bxc3,e6,Na3,Be7,Nc4,O-O,Nfe5,Nfd7,Bf3,Ra7,Be3,c5,d5,exd5,Bxd5,Nf6,Bf3,Be6,Qxd8,Rxd8,Rfd1,Nd5,Rab1,f6,Rxb8,Rxb8,Nc6,Nxe3,Nxe3,Rbb7,Nxa7,Rxa7,Nd5,Kf7,Nb6,g6,a5,Rc7,Kf1,c4,Bd5,Bc5,Bxe6+,Kxe6,Nxc4,Bxf2,Rd6+,Ke7,Kxf2,Rxc4,Rxa6,Rxc3,Ra7+,Ke6,Rxh7,Ra3,Ra7,Kf5,h3,Kf4,Rb7,Rxa5,Rb4+,Kg5,Kg3,f5,h4+,Kf6,Kh3,Ra6,g3,Re6,Ra4,Re4,Rxe4,fxe4,Kg2', 'Kf5,Kf2,Kg4', 'https://lichess.org/training/Mj3VW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJ4ai', 'Classical', 'DLarej', 1813, 'Alexis94AJA', 1731, 'd4,d5,c4,Nf6,Nc3,dxc4,e3,c5,Bxc4,cxd4,Nge2,dxe3', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/mJ4ai');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mj5lR', 'Classical', 'Alexandra2011', 1704, 'bl1zz4rd', 1936, 'e4,c5,d4,cxd4,Nf3,d6,Nxd4,Nf6,Nc3,g6,Bg5,Bg7,Bc4,O-O,O-O,Nc6,Nf3,a6,Re1,Bd7,e5,dxe5,Nxe5,Nxe5,Rxe5,Qc7,Rxe7,Qxc4,Bxf6,Bg4,Qd6,Rad8,Qe5,Bxf6,Qxf6,Rfe8,Rxe8+,Rxe8,h3,Bf5,b3,Qb4,Nd5,Re1+,Rxe1,Qxe1+,Kh2,Qe6,Qd8+,Kg7,f4,Bxc2,Nc3,Be4', 'Qd4+,Qf6,Qxf6+,Kxf6,Nxe4+', 'https://lichess.org/training/Mj5lR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mj9EB', 'Blitz', 'ofolha', 1786, 'somethingpretentious', 1991, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,g6,Be3,Bg7,Qd2,a6,O-O-O,e6,Nxc6,bxc6,Qxd6,Qxd6,Rxd6,Ne7,Bg5,h6,Bxe7,Kxe7,Rxc6,Rd8,f3,h5,Bc4,Rd4,Rd1,Rxd1+,Nxd1,Bd7,Rxa6,Rd8,Ra7,Ke8,Nc3,Bc6,Bb5,Bxb5,Nxb5', 'Bh6+,f4,Bxf4+,Kb1,Rd1#', 'https://lichess.org/training/mj9EB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJ9QD', 'Rapid', 'ChesSuxX', 1815, 'ardool', 1888, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,Bxf6,Qxf6,e5,Qe7,Qg4,O-O,Nf3,Nd7,Bd3,f5,exf6,Nxf6,Qh4,h6,O-O,Nd7,Qg3,Bd6,Ne5,Qf6,f4,a6,Ne2,c5,c3,c4,Bc2,Be7,Ba4,Nxe5,fxe5,Qg5,Bc2,Bd7,b3,b5,Rf3,Qxg3,Nxg3,Rxf3,gxf3,Rf8,Rf1,Be8,f4,Bh4,Kg2,Bxg3,hxg3,Bh5,Bd1,Bg6,Rf2,Be4+,Bf3,Bxf3+,Kxf3,g5,Kg4,Kg7,f5,exf5+,Rxf5,Rxf5,Kxf5,a5,Ke6,b4,cxb4', 'c3,b5,c2,b6,c1=Q', 'https://lichess.org/training/mJ9QD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJ9yO', 'Rapid', 'Vitaliy-Fedorov', 1776, 'kooroshkhosravi', 1785, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,e6,Nf3,Nf6,Nxc3,Bb4,e5,Ne4,Qc2,Nxc3,bxc3,Be7,O-O,O-O,Bd3,d5,exd6,Bxd6,Qe2,Qc7,Qe4,g6,Ng5,Nd7,Qh4,Nf6,Bb2,h5,c4,b6,Bxf6,Bb7,Be4,Bxe4,Nxe4,Be5,Qg5,Bxf6,Nxf6+,Kg7,Nxh5+,Kh7,Nf6+,Kg7,Rae1,Rh8,h3,Qxc4,Re4,Qc3,h4,Qxf6,Qg3,Rh7,Rf4,Qe7,Rg4,Rah8,Qe5+,Kg8,g3,Rh5,Qc3,R8h6,Rc4,g5,Rc8+,Kh7,Qh8+,Kg6,Qg8+,Kf5,f3,gxh4', 'g4+,Kf6,gxh5', 'https://lichess.org/training/mJ9yO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MJBKj', 'Rapid', 'pndsv1', 1903, 'Yahia911', 2026, 'd4,Nf6,Bf4,g6,e3,Bg7,c3,O-O,Nd2,d6,Ngf3,Nc6,Bd3,Nh5,Bg3,e5,Bh4,Nf6,dxe5,dxe5,Qc2,Bg4,O-O-O,Qe7,h3,Bxf3,Nxf3,e4,Bxe4', 'Qxe4,Bxf6,Qxc2+,Kxc2,Bxf6', 'https://lichess.org/training/MJBKj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MJcs1', 'Rapid', 'Lanoc', 2038, 'shin543', 2126, 'e4,c5,d4,cxd4,c3,d3,Bxd3,d6,Nf3,Nf6,e5,dxe5,Nxe5,Nbd7,Bf4,Nxe5,Bxe5,e6,Bxf6,gxf6,Bb5+,Bd7,Bxd7+,Qxd7,Qxd7+,Kxd7,Nd2,Rd8,O-O-O,Bh6,Kc2,Bxd2,Rxd2+,Kc7,Rhd1,Rxd2+,Rxd2,Rg8,g3,f5,Rd4,b5,Rh4,Rg7,Kb3,Kb6,a4,a6,axb5,axb5,c4,bxc4+,Kxc4,Kc6,b4,Kd6,b5,f6,Rh6,Rc7+,Kb4,Rf7,f4,Kd5,Ka5,e5,fxe5,fxe5,b6,e4,Ka6', 'e3,b7,Rxb7,Kxb7,e2', 'https://lichess.org/training/MJcs1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MjCuD', 'Blitz', 'alialobiady2020', 1696, 'Beshmin2', 1877, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,Nf6,d4,cxd4,Nxd4,Bc5,Nxc6,bxc6,e5,Nd5,Bxd5,cxd5,O-O,O-O,Kh1,d6,f4,a5,Na4,Ba7,exd6,Qxd6,Nc3,Ba6,Re1,Rfe8,Be3,d4,Bxd4,Qxd4,Qg4,f5,Qh5,Qxf4,Rad1,g6,Qh3,Bb7,Rd7,Bxg2+,Qxg2,Qh6,Qe2,Bb8,Rf1,Kf8,Rf2,Re7,Rd3,Ba7,Rg2,Rae8,Nb5,Bc5,Qe5,Bb6', 'Qh8+,Kf7,Nd6#', 'https://lichess.org/training/MjCuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MjCXb', 'Blitz', 'GM ledinavelosipede', 2554, 'Roli_The_First', 2365, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,c4,Nc6,Nc3,e5,dxe5,dxe5,Qxd8,Rxd8,Bg5,Re8,Nd2,h6,Bxf6,Bxf6,Bxc6,bxc6,Nde4,Be7,Na4,Be6,b3,Red8,Rfd1,Bf5,Nec5,Bc2,Rxd8+,Rxd8,Kf1,Bg5,e3,Bf5,h4,Bf6,Ke2,h5,e4,Bc8,f3,Kg7,Rd1,g5,hxg5,Bxg5,Rxd8,Bxd8,Nd3,f6,b4,Be7,a3,Kf7,Ndc5,f5,Nb3,fxe4,fxe4,Kg6,Na5,Bd7,Nb7,Kg5,Nac5,Be8,Nd3,Bf6,Nbc5,Kg4,Kf2,Bg6,Nd7,Bg7,N7xe5+,Kg5,Nxg6,Kxg6,Ke3,Kg5,Kf3,Bc3,Nf4,Be5,b5,cxb5,cxb5,Bd6,a4,Bb4,Nd5,Ba5,e5,Kf5,e6,Kxe6,Nf4+,Kf5,Nxh5,Ke5,Nf4,Bd2,Ne2,Kd5,Nf4+,Kc4,g4,Kb4,g5,Kxa4,g6,Bc3,Nd5,Bh8,Nxc7,Ka5,Ke4,Kb6,Nd5+,Kxb5,Kf5,a5,Ke6', 'a4,Kf7,a3,g7,Bxg7', 'https://lichess.org/training/MjCXb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MJEko', 'Rapid', 'iveyerik', 1859, 'val1970', 1871, 'e4,c6,Bc4,d5,Bb3,dxe4,Qh5,g6,Qh4,Nf6,f3,exf3,Nxf3,Bg7,O-O,O-O,Ng5,h6,Ne4,Nxe4,Qxe4,Bf5,Rxf5,gxf5,Qxf5,Nd7,d3,e6,Qh5,Qf6,Nc3,Nc5,Ne4,Nxe4,dxe4,Qg6,Qf3,Rad8,Be3,Qf6,Qg3,Kh7,c3,Qg6,Qf3,Rg8,Rf1,Rdf8,Bxa7,Be5,Bd4,Bxd4+,cxd4,Rg7,Rf2,Rd8,e5,Qf5', 'Bc2,Qxc2,Rxc2', 'https://lichess.org/training/MJEko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MjEkV', 'Rapid', 'mpampois', 1997, 'Furesalim22', 2046, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,dxc4,Bxc4,c6,Nf3,O-O,O-O,b5,Bd3,Bb7,e4,Nbd7,Qc2,h6,Bf4,Re8,e5,Nd5,Nxd5,exd5,Be3,Rc8,Nd2,a6,f4,c5,Qd1,Nf8,f5,cxd4,Bxd4,Bc5,Bxc5,Rxc5,Qe2,Qg5,Nf3,Qf4,Rae1,d4,b4,Bxf3', 'Rxf3,Rcxe5,Rxf4', 'https://lichess.org/training/MjEkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mjfB2', 'Classical', 'Alfred_Bourdon', 1806, 'pancasero', 1861, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd2,d6,Bd3,O-O,O-O,Re8,a3,Ba5,b4,Bb6,Be3,Ng4,Qe2,Qh4,h3,Ne5,a4,a6,b5,axb5,axb5,Rxa1,Rxa1,cxb5,Bxb5,Rf8,Bxb6,cxb6,Ra7,f5,Bc4+,Kh8,Bd5,g5,exf5,Bxf5,Ne4,Qh6,Nxd6,Qxd6,Be4,Bg6,Bxg6,Nxg6,Qh5,Ne7,Qxg5,Qf6', 'Qxf6+,Rxf6,Rxe7', 'https://lichess.org/training/mjfB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MJGoH', 'Rapid', 'Ioann_G', 1755, 'Tsum', 1789, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d4,a6,Ba4,b5,Bb3,exd4,Nxd4,Nxd4,Qxd4,Bb7,O-O,Ng6,f4,c5,Qc3,c4,e5,Nh4,Rf2,Bc5,Be3,Bxe3,Qxe3,cxb3,axb3,Nf5,Qh3,Ne7,f5,Nd5,e6,O-O,Nc3,dxe6,Nxd5,Bxd5,f6,g6', 'Qh6,Qxf6,Rxf6', 'https://lichess.org/training/MJGoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJhAK', 'Classical', 'ViperEng12', 1614, 'Xjurkmaster', 1735, 'd4,Nf6,Nf3,g6,e3,Bg7,Bd3,d6,c4,O-O,b3,Nbd7,Bb2,e5,dxe5,dxe5,Bc2,e4,Nd4,c5,Ne2,Qc7,O-O,Ng4,Ng3,Bxb2,Qxg4,Bxa1,Nd2,Bg7,Ndxe4,Nf6,Nxf6+,Bxf6,Qf3,Be6,Ne4,Bg7,Rd1,Rae8,Ng5,Bc8,Rd5,h6,Ne4,Bf5,Rxf5,gxf5,Qxf5,Re5', 'Nf6+,Bxf6,Qh7#', 'https://lichess.org/training/mJhAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mjHb0', 'Rapid', 'GRABERKING999', 2053, 'suvk', 2053, 'e4,Nc6,Nf3,e5,Bc4,d6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Be7,O-O,O-O,h3,d5,e5,Nd7,f4,Nc5,Nc3,a5,Qh5,Nxd3,cxd3,f6,d4,c5,dxc5,Bxc5+,Kh1,Ba6,Rd1,c6,e6,f5,Na4,Be7,b3,Bf6,Rb1,Qd6,Nb6,Rad8,Nd7,g6,Qf3,Qxe6,Nxf8,Kxf8,Ba3+,Kg7,Re1,Qd7,Re3,d4,Ree1,Bb7,Re2,c5,Qg3,Be4,Rbe1,d3,Rd2,Bc3,Red1,Bxd2,Rxd2,Qd4', 'Bb2,Kf7,Bxd4', 'https://lichess.org/training/mjHb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJhJD', 'Rapid', 'Fatih07Mehmet', 1609, 'cheetah6969', 1677, 'Nf3,c5,e3,d6,c3,Nc6,d4,cxd4,cxd4,Nf6,Nc3,Bd7,a3,g6,Qc2,Bg7,Bd3,Rc8,Qe2,O-O,b4,d5,Bd2,e6,h3,a5,b5,Na7,a4,Qe7,O-O,Rc7,Ne5,Rfc8,b6,Rxc3,Bxc3,Nc6,Nxd7,Nxd7,Qb2,Nb4,Bxb4,axb4,a5,Rc3,Rfd1,Nf6,f3,Qd6,Rd2,Bh6,Kf2,Nh5,f4,Nxf4,exf4,Qxf4+,Kg1,Qe3+,Kh1,Qxd2,Qxd2,Bxd2,a6,bxa6,b7,Bf4,Bxa6,Bb8,Bf1,b3', 'Ra8,Kg7,Rxb8,b2,Rg8+,Kxg8,b8=Q+', 'https://lichess.org/training/mJhJD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MjIsA', 'Classical', 'SRobo', 1731, 'Fran_21-15-9', 1682, 'e4,c5,Bc4,e6,Nc3,Nf6,e5,Ng8,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,a6,Bxc6+,bxc6,Bg5,f6,exf6,Nxf6,Ne4,e5,Qd3,Be7,O-O-O,Nxe4,Qxe4,Bxg5+,Nxg5,Qxg5+,Kb1,Kd7,Rd3,Qf4,Qe2,Bb7,Rhd1,d5,g3,Qf7,f3,Rae8,Rb3,Kd6,Rb6,Qc7,Qe3,Rhf8,Qb3,Rb8,Rxd5+,Ke7,Qb4+,Ke6,Qb3,Rxf3', 'Rd3+,Ke7,Rxf3', 'https://lichess.org/training/MjIsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJjE1', 'Rapid', 'xSmoki', 1893, 'mesen86', 1959, 'e4,e5,f4,Nf6,fxe5,Nxe4,Nf3,Nc6,d3,Nc5,d4,Ne4,Bd3,d5,Nbd2,f5,O-O,Bb4,c3,Be7,c4,O-O,cxd5,Qxd5', 'Bc4,Qxc4,Nxc4', 'https://lichess.org/training/mJjE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mjjP6', 'Rapid', 'Pestov1987', 1682, 'Bullet_002', 1734, 'e4,c5,Bc4,d6,Nf3,Nf6,Nc3,a6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,e5,dxe5,Qxd8+,Kxd8,O-O,e6,Rd1+,Bd7,Na4,Nd5,Bxd5,exd5,c4,d4,f4,Bd6,fxe5,Bxe5,Nb6,Rb8,c5,Be6,Be3,Ke7,Bxd4,Bxd4+,Rxd4,Rhd8,Rad1,Rxd4,Rxd4,Rd8,Rxd8,Kxd8,a3,Kc7,Kf2,f5,Ke3,g6,Kd4,a5,b4,a4,Nxa4,Bd5,g3,g5,Nb6,Bg2,a4,h5,Ke5,Be4,a5,Bd3,Kf6', 'f4,Ke5,f3,Kd4,f2,Kxd3,f1=Q+', 'https://lichess.org/training/mjjP6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MJKht', 'Rapid', 'vektor-mw', 1647, 'sergiusz12', 1631, 'e4,e5,Nf3,d6,d4,f6,Nh4,Ne7,Nf5,Nxf5,exf5,Bxf5,dxe5,fxe5,Bc4,Nc6,Nc3,Qd7,Qf3,O-O-O,Be3,b6,Bb5,Kb7,O-O-O,a6', 'Bxc6+,Qxc6,Qxf5', 'https://lichess.org/training/MJKht');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MjKjE', 'Rapid', 'epic5475', 1915, 'rohaim', 1796, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Nbd7,Nbd2,b6,Bd3,a5,Qe2,c5,c3,Be7,e4,O-O,h3,dxe4,Nxe4,Nxe4', 'Qxe4,Nf6,Qxa8', 'https://lichess.org/training/MjKjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJmLj', 'Rapid', 'Valeryo-nsk', 1831, 'korosh19', 1855, 'e4,e6,Nf3,d5,e5,c5,d4,cxd4,Nxd4,Qc7,Nf3,Nc6,Bb5,Bd7,O-O,Nxe5,Bf4,Nxf3+,Qxf3,Bd6,Bxd6,Qxd6,Bxd7+,Qxd7,Qg4,f6,Nc3,a6,Rad1,Nh6,Qh5+,Qf7,Qe2,O-O,h3,Rad8,Qf3,Nf5,Rd3,Qg6,Qd1,d4,Na4,e5,c3,e4,Rd2,Nh4,Qg4,Qxg4,hxg4,d3,Nc5,Rfe8,Nxb7,Rb8,Nc5,a5,b3,g6,Kh2,f5,Kh3,g5,gxf5,Nxf5,Nd7,h5,Nxb8,g4+,Kh2,Rxb8,Re1,Re8,f3,gxf3,gxf3,Nh4,Rg1+,Kh7,Rf2,Nxf3+,Rxf3,exf3,Kg3,d2,Rd1,h4+,Kxf3,Rd8,Kg4,Rd3,c4,Rd4+,Kf3,Kh6,Ke3,Rd8,Rxd2', 'Rxd2,Kxd2,h3', 'https://lichess.org/training/mJmLj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJmPq', 'Bullet', 'Frutekx', 1525, 'valuone', 1515, 'd4,e6,Bf4,d5,Nf3,c5,c3,Nc6,e3,Qb6,Qc2,Nf6,Nbd2,cxd4,exd4,Be7,Bd3,O-O,Ne5,h6,f3,Nxe5,Bxe5,Nd7,f4,Nxe5,fxe5,Bg5,h4,Bxd2+,Qxd2,Bd7,g4,Bb5,h5,Bxd3,Qxd3,Qxb2,O-O,Rac8,Rfc1,f6,Rab1,Qxa2,Rxb7,fxe5,Qg6,Qf2+,Kh1,Qf3+,Kg1,Qe3+,Kh1,Qxc1+,Kg2,Qd2+,Kg1,Qg5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/mJmPq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MJpcZ', 'Blitz', 'q8mm2010', 1608, 'some_fancy_clown', 1717, 'Nf3,d5,g3,Bf5,d3,Nf6,Bg2,c5,O-O,Nc6,Nbd2,e6,e4,dxe4,dxe4,Bg6,e5,Nd5,c4,Ndb4,Nh4,Bd3,Be4,Bxf1,Kxf1,Nxe5,f4,Nxc4', 'Qa4+,Qd7,Qxd7+,Kxd7,Nxc4', 'https://lichess.org/training/MJpcZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MJQH7', 'Blitz', 'aybelek', 2376, 'stevevandervalk', 2269, 'd4,f5,Nc3,Nf6,Qd3,d6,f3,e5,d5,a6,e4,Nbd7,Be3,f4,Bf2,g5,g3,Bg7,h4,fxg3,Bxg3,g4,h5,Bh6,Nge2,Nc5,Qc4,gxf3,Ng1,b5,Qb4,Bg4,Bh3,O-O,Bh4,Qd7,Bxf6,Rxf6,Nd1,Rf4,Nf2,Bxh3,Ngxh3,Rh4,Rg1+,Kh8,Ng5,Rg8,Nxf3,Rxg1+,Nxg1,Qf7,Qc3,Rh2,Qg3,Bf4,Qg4,Nxe4,Nxe4', 'Bd2+,Nxd2,Qf2+,Kd1,Qxd2#', 'https://lichess.org/training/MJQH7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MJqJx', 'Bullet', 'Mostafasalimi', 2053, 'Egypt-Pharaoh', 1940, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,d5,O-O,h6,Nc3,Bd6,Ne5,a6,cxd5,exd5,Nd3,O-O,Bf4,Ne4,Bxd6,Qxd6,Rc1,Nd7,Qc2,Ndf6,Ne5,Rac8,f4,c5,Nxe4,Nxe4,Bxe4,dxe4,dxc5,Rxc5,Qd1,Qxd1,Rfxd1,Rxc1,Rxc1,Rc8,Rd1,Rc2,Rd8+,Kh7,Rd7,Bc8,Rxf7,e3,h4,Bh3,h5,Rxe2,Nd7,Rg2+,Kh1,e2', 'Nf6+,Kh8,Rf8#', 'https://lichess.org/training/MJqJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJskt', 'Blitz', 'guelar', 1790, 'LM PeshkaCh', 2234, 'Nf3,d5,g3,Nf6,Bg2,c6,d3,e6,O-O,Nbd7,b3,Be7,c4,b6,Bb2,Bb7,Nbd2,O-O,e4,dxe4,dxe4,Nc5,Qc2,Qd3,Qxd3,Nxd3,Bc3,Rad8,Rad1,c5,e5,Ne4,Nxe4,Bxe4,Nd2,Bxg2,Kxg2,f6,exf6,Bxf6,Bxf6,Rxf6,Ne4,Rff8,f4,h6,Rf3', 'Nxf4+,Rxf4,Rxd1', 'https://lichess.org/training/mJskt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJSpA', 'Rapid', 'nivo1', 1750, 'romdynamic', 1603, 'e4,e5,Nf3,d6,d4,Bg4,Bc4,Bxf3,Qxf3,Qf6,Qb3,b6,dxe5,Qxe5,Bxf7+,Kd8,Bxg8,Qxe4+,Kf1,Be7,Bd5,Qe5,Bxa8,Rf8,Be3,Bg5,Bxg5+,Qxg5,Nc3,Qf5,Bf3,g5,h3,Nc6,g4,Qxf3,Rh2,Nd4,Qa4,Qf4,Rg2,Qd2,Qxa7,Qxc2,Re1,Qd3+,Kg1', 'Nf3+,Kh1,Nxe1', 'https://lichess.org/training/mJSpA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mjumg', 'Blitz', 'PARNEVICK007', 1844, 'omarmal', 1841, 'e4,c5,Nf3,Nc6,b3,g6,Bb2,Nf6,e5,Nd5,e6,Nf6,exf7+,Kxf7,d4,cxd4,Nxd4,Nxd4,Bxd4,Bg7,Bd3,Rf8,O-O,e6,Nc3,b6,Qd2,Bb7,Rae1,Rc8,Re3,Kg8,Rh3,Qe7,Re1,Qd6,Be5,Qc6,f3,Nd5,Nxd5,Qxd5,Bxg7,Kxg7,Qh6+,Kf6,Re4,Qc5+,Kh1,Qf2,Rf4+,Ke7,Rxf8', 'Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/mjumg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MJVWi', 'Rapid', 'Chesstilt', 1795, 'jesorak', 1816, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,Nf6,Bg2,b6,O-O,Bb7,Re1,Be7,e5,Nd7,Nf1,Qc7,Bf4,O-O-O,a4,g5,Nxg5,Bxg5,Bxg5,Rdg8,Bf4,h5,h4,Rh7,c3,Rhg7,b4,Rg6,bxc5,Nxc5,d4,Nd7,Ne3,Ba6,Nc2,Rg4,Nb4,Nxb4,cxb4,Bc4,a5,b5,Bf1,a6,Be3,f6,Bxc4,dxc4,d5,Qxe5,dxe6,Rxg3+,fxg3', 'Qxg3+,Kf1,Qg2#', 'https://lichess.org/training/MJVWi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mJWKr', 'Rapid', 'ExtraChromosome21', 1914, 'garri-sargsyan', 1871, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Nxe5,Nxe5,d4,Nc6,d5,Ne5,f4,Ng6,f5,Ne5,Bf4,d6,Bb5+,Bd7,Bxe5,dxe5,Qe2,a6,Bxd7+,Qxd7,O-O-O,Bb4,Rd3,Bxc3,Rxc3,O-O,g4,Qa4,Re1,Qxa2', 'Ra3,Qxa3,bxa3', 'https://lichess.org/training/mJWKr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mjxjg', 'Blitz', 'Orcamala', 2170, 'FM NikosGeo', 2331, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,c4,c6,Nc3,d5,cxd5,cxd5,d4,e6,Ne5,Nfd7,f4,Nb6,e3,Bd7,b3,Nc6,Ba3,Re8,Rc1,Bf8,Bxf8,Rxf8,Qe2,Nc8,h4,h5,Kf2,Nd6,Rh1,Nf5,g4,Nxh4,gxh5,Nxe5,dxe5,g5,Rcg1,Kh8,Bf1,f6,exf6,Qxf6,Qd3,gxf4,e4,f3,e5,Qe7,Rg6,Nxg6,hxg6+,Kg8,Qe3,d4,Qxd4,Bc6,Ne4,Rad8,Qe3,Bxe4,Qxe4,Qg5,Bh3,Rd2+,Kf1,Rd1+,Kf2,Qd2+,Kg3,Rxh1,Bxe6+,Kg7,Qxb7+,Kxg6,Bf5+,Kxf5,Qd7+,Kg5,Qxd2+,Kf5', 'Qf4+,Kg6,Qxf8', 'https://lichess.org/training/mjxjg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MK0CK', 'Blitz', 'FM Mvlitovicius', 2134, 'RichardSommer', 2171, 'e4,e6,Nc3,d5,Nf3,Bb4,exd5,exd5,Ne2,Nf6,c3,Bd6,Ng3,O-O,Be2,c6,O-O,Bg4,Nd4,Bxe2,Qxe2,Re8,Qf3,Nbd7,d3,Ne5,Qd1,Qd7,h3,c5,Nf3,Nxf3+,Qxf3,b6,Bg5,Be7,Nf5,h6,Nxe7+,Qxe7,Bxf6,Qxf6,Qxf6,gxf6,Rae1,Kg7,f4,Kg6,Kf2,Kf5,Kf3,Re6', 'g4+,Kg6,f5+', 'https://lichess.org/training/MK0CK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MK2Ke', 'Rapid', 'Alpax', 2065, 'awful_waffel', 2016, 'd4,d5,c4,e6,e3,Nf6,Nf3,Be7,Bd3,O-O,O-O,dxc4,Bxc4,Nc6,Nc3,h6,a3,a6,Ba2,Bd6,Bd2,e5,d5,Ne7,e4,Bg4,h3,Bh5,Re1,c6,dxc6,Nxc6,Re3,Nd4,Rc1,Nxf3+,Rxf3,Bxf3,Qxf3,Rc8,Rd1,Qe7,Be3,Bxa3,Nd5,Nxd5,Bxd5,Bxb2,Rb1,Bd4,Rxb7,Rc7,Rxc7,Qxc7,Bd2,a5,g3,Rb8,Kg2,Rb2,Be3,Bxe3,Qxe3,a4,Qa3,Qc2,Qf3,Qc7,h4,Qe7,Qc3,a3,Qc8+,Kh7,Qf5+,g6,Qf3,h5,Qc3,Rb6,Qa1,Ra6,Qa2,Ra7,Kh3,Qd7+,Kg2,Qd6,Bxf7,Qd4,Bg8+,Kh8,Bd5,Re7,Qxa3,Re8,Qa6,Rf8,Qf1,Qd2,Kg1,g5,hxg5,h4,Be6,hxg3', 'Qh3+,Kg7,Qh6#', 'https://lichess.org/training/MK2Ke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mk40r', 'Rapid', 'jesslota', 1761, 'playfulexistence', 1775, 'e4,d5,exd5,Qxd5,d4,e5,c3,Nc6,dxe5,Qxd1+,Kxd1,Bg4+,f3,Bf5,Bb5,O-O-O+,Ke2,Nxe5,Be3,c6,Ba4,Nc4,Nd2,Bd3+,Kf2,Nxe3,Kxe3,Bc5+,Kf4,g5+,Kg3,h5,h4,Ne7,Ne4,Nf5+,Kh2,Be3,hxg5,Bf4+,g3,Bxe4,gxf4,Rd2+,Kh3,Bd5,Rh2,Rxh2+,Kxh2,h4,Bc2,Ne3,Be4,Kd7,Re1,Nc4,Bf5+,Kd6,b3,Nd2,Re3', 'Nf1+,Kh3,Nxe3', 'https://lichess.org/training/mk40r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mk5L4', 'Rapid', 'bibastis', 1923, 'amirhosein74ch', 1895, 'e4,c6,d4,d5,exd5,cxd5,Nf3,h6,Nc3,a6,Bf4,Bf5,Bd3,Bxd3,Qxd3,e6,O-O,Bd6,Ne2,Bxf4,Nxf4,Nd7,c4,dxc4,Qxc4,Ngf6,Rfe1,O-O,Rad1,b5,Qb4,Nb6,b3,Nbd5,Nxd5,Nxd5,Qa3,Qf6,Ne5,Qg5,Qc1,Nf4,g3,Nh3+,Kg2,Qh5,Re4,Rac8,Qd2,g5,Ng4', 'f5,Nxh6+,Qxh6', 'https://lichess.org/training/Mk5L4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mk6ly', 'Rapid', 'LamkiZiaf', 2076, 'Kotomtom02', 2090, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,O-O,d5,d3,Bd6,e5,Bc7,Bg5,f6,exf6,Nxf6,Nc3,O-O,Re1,h6,Bh4,Qe8,Ne5,Nd7,Bg3,Nxe5,Bxe5,Bxe5,Rxe5,Qf7,Qe2,Bd7,Re1,Qf6,Na4,Qe7,c4,Qd6,Nc3,Rf6,b3,Raf8,f3,dxc4,Ne4,Qxe5,Nxf6+,Qxf6,dxc4,Re8,Rd1,Qf7,Qe3,Qe7,Qd3,Bc8,Qc3,e5,Re1,Bf5,g4,Bg6,Qe3,Qf6,Kg2,e4,f4,Qb2+,Re2,Qd4,Qg3,e3,f5,Qe4+,Kh3,Bf7,Kh4,Re5,h3,g5+,fxg6,Rh5+,Kxh5', 'Qxg6+,Kh4,Qg5#', 'https://lichess.org/training/Mk6ly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mk865', 'Rapid', 'cosinusschaal', 1739, 'hamous', 1738, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,h6,d4,exd4,Nxd4,Nxd4,Qxd4,Bb7,e5,c5,exf6,cxd4,Re1+,Be7,fxe7,Qc7,Nd2,a5,a4,Qc6,Ne4,Qg6,Ng3,h5,h4,b4,Bf4,Qc6,f3,Rc8,Nf5,Qf6', 'Nd6+,Qxd6,Bxd6', 'https://lichess.org/training/mk865');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mk8TK', 'Rapid', 'Godel_incomplete', 2030, 'alan03', 2015, 'e4,c5,c3,d5,exd5,Qxd5,d4,cxd4,cxd4,Nc6,Nf3,Bg4,Nc3,Bxf3,Nxd5,Bxd1,Nc7+,Kd8,Nxa8,Bg4,h3,Bd7,Bf4,f6,Rd1,Nxd4,Bc7+,Kc8,Rxd4,e5,Rc4,Bc6,Bd3,Ne7,Ba5,Nd5,Be4,Kb8,Nc7,Nxc7,Bxc7+,Kxc7,Ke2,Kb6,Bxc6,bxc6,Rhc1,c5,b4,Be7,bxc5+,Kc6,Rg4,g6,Ra4,Ra8,Ra6+,Kb5,Re6,Bxc5,a4+,Kb4,Rc6,Bd4,R1c4+,Kb3,a5,f5,f4,Re8,Kf3,e4+,Ke2,Bg1,Rc3+,Kb4,Rc1,Bh2,Ke3,Kxa5,R1c5+,Kb4,Rc7', 'Bg1+,Ke2,Bxc5', 'https://lichess.org/training/Mk8TK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mK9bU', 'Rapid', 'KrAleex', 1646, 'Hattab0795', 1628, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Bg4,h3,Bxf3,gxf3,Qf6,d5,Nd4,Qc3,Nxf3+,Ke2,Qxc3,Nxc3,Ne5,Bb5+,Nd7,Rhg1,g6,Rac1,O-O-O,f4,a6,Bd3,Ne7,b4,f5,exf5,Nxf5,Bxf5,gxf5,Rg7,Nf6,Rf7,Rdf8,Rxf8+,Rxf8,Rg1,Rg8,Rf1,Re8+,Kf3,Ne4,Nxe4,Rxe4,Rb1,Rd4,Rg1,Rxb4,Rg8+,Kd7,Rg7+,Kd8,Rg8+,Kd7,Rg7+,Kd8,Rg8+,Ke7,Rg7+,Kf8,Rxh7,c6,dxc6,bxc6,Rc7,Rb6,h4,Ke8,h5,Kd8,Rg7,Rb2', 'h6,Rh2,h7', 'https://lichess.org/training/mK9bU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MkaI6', 'Rapid', 'Stockdog6', 2141, 'Jin_Kura_Kura', 2278, 'e4,Nc6,Nf3,e5,d4,Nf6,d5,Ne7,Nxe5,Nxe4,Nxf7', 'Kxf7,Qf3+,Nf6', 'https://lichess.org/training/MkaI6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mkBnZ', 'Rapid', 'a_herbert', 1800, 'drnsvelu', 1743, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,a6,Nc3,Nf6,Be2,h6,O-O,Be7,Bf4,c5,Nb3,O-O,Qd2,Qc7,Rfd1,Rd8,Qe3,Be6,h3,Nc6,Nxc5,Ne5,Nxe6,fxe6,a4,Nc4,Bxc4,Qxc4,Rd4,Qc7,Rad1', 'e5,R4d3,exf4', 'https://lichess.org/training/mkBnZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mkbv2', 'Classical', 'KiJuliop', 1685, 'Weltmeister1', 1847, 'd4,d5,c4,e6,Nc3,c5,Nf3,Nc6,dxc5,d4,Ne4,f5,Ng3,Bxc5,e3,dxe3,Qxd8+,Nxd8,Bxe3,Bxe3,fxe3,Nf6,Nd4,Nf7,O-O-O,Ng4,Nb5,O-O,Rd2,Nxe3,Bd3,Ng4,h3,Nge5,Re1,Nc6,Nc7,Rb8,Nxe6,Re8,Bxf5,g6,Ne4,Rxe6', 'Bxe6,Bxe6,Nf6+,Kg7,Rxe6', 'https://lichess.org/training/Mkbv2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKC2S', 'Rapid', 'fbedos', 1931, 'Equinoxius', 2022, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb3,Be6,Nc3,h6,Be3,Nf6,f3,a6,Qd2,Qc7,O-O-O,Nbd7,g4,g5,h4,gxh4,Rxh4,O-O-O,g5,Ne8,gxh6,Nef6,Nd5,Bxd5,exd5,Kb8,Rc4,Nc5,Nxc5,dxc5,f4,Rxd5,Qc3,Bxh6,Rxd5', 'Nxd5,Qxe5,Qxe5', 'https://lichess.org/training/mKC2S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKdNB', 'Bullet', 'DerSaxe', 1738, 'nikow56', 1720, 'c4,d5,Nc3,d4,Ne4,e5,d3,c5,g3,Bd6,Bg2,Nc6,e3,h5,exd4,cxd4,a3,Bg4,Ne2,Nf6,b4,Nxe4,Bxe4,f5,Bg2,f4,f3,Be6,Bb2,Qf6,Qc2,Qg6,O-O-O,Bxb4,axb4,Nxb4,Qb3,a5,Ba3,O-O,Bxb4,axb4,Qxb4,b5,Qxb5,Rfb8,Qxe5,Ra1+,Kd2,Rb2+,Ke1,Rxd1+,Kxd1,Qxd3+,Ke1,Rb1+,Kf2', 'Qe3+,Qxe3,fxe3#', 'https://lichess.org/training/mKdNB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MkE8O', 'Classical', 'Valera_Davidovich', 1904, 'amateur71', 1843, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,a6,Be2,d6,O-O,Nf6,Bf3,Be7,c4,O-O,Nxc6,bxc6,e5,dxe5,Bxc6,Rb8,b3,Qc7,Bf3,Rd8,Qc2,Bb7,Nd2,Bxf3,Nxf3,e4,Ne1,Rbc8,Rd1,Rxd1,Qxd1,Rd8,Qc2,Bb4,Bg5,Qa5,Qc1,h6,Bxf6,gxf6,Nc2,Bd2,Qd1,e3,Qg4+,Kh7,Nxe3,Bxe3,fxe3,Qxa2,Qh5,Rd7,Qf3,f5,e4,Rd2,exf5,e5,f6,Qc2,Qg3,Qg6,Qf3,e4,Qh3,e3,Re1,e2,Qf3,Rd3,Qxe2,Rxb3,h3,Qxf6', 'Qc2+,Kg7,Qxb3', 'https://lichess.org/training/MkE8O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKe9y', 'Rapid', 'ChessBrahLA', 2036, 'daffie490', 2020, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,g3,Bb4+,Bd2,Nge7,Bg2,O-O,O-O,Ng6,Bxb4,Nxb4,Na3,Nc6,Nc2,Ngxe5,Ncxd4,Nxf3+,Nxf3,Qxd1,Rfxd1,Be6,b3,Rad8,e3,Nb4,Nd4,Bg4,f3,Bc8,a3,Nc6,Nxc6,bxc6,f4,Bb7,e4,Rfe8,c5,f6,Kf2,Kf7,Ke1,Ke6,Rxd8,Rxd8,Rd1,Rxd1+,Kxd1,g6,Kd2,f5,exf5+,Kxf5,Ke3,a5,Bh3+,Kf6,Kd4,Ba6,Bd7,Bb7,g4', 'Ke7,Ke5,Kxd7', 'https://lichess.org/training/mKe9y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mkfCF', 'Rapid', 'gzola', 1932, 'Gfetahi', 1977, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Bf5,Nf3,h5,b3,Qe4+,Kd2,e6,Bd3', 'Bb4+,c3,Qxd3+', 'https://lichess.org/training/mkfCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKfWP', 'Rapid', 'porovos', 1949, 'IloveDianaLielpeter', 1952, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,Bg4,h3,Bxf3,Qxf3,c6,O-O,e6,d3,Be7,Bf4,O-O,Rad1,Nbd7,d4,Nb6,Bd3,Nbd5,Be5,Qb6,Nxd5,cxd5,Rb1,Rfd8,c3,Ne8,Qg4,Bd6,Qh4,h6,Qg3,Bxe5,Qxe5,Qd6,Qe3,Nf6,f4,Re8,Qe5,Qc6,f5,Nd7,Qf4,Rf8,fxe6,fxe6,Qg4,Nf6,Qg6,Qe8,Qg3,Qe7,Rbe1,Rae8,Re5,Nd7,Rxf8+,Rxf8,Qg6,Nxe5,Qh7+,Kf7,dxe5,Ke8,Qg6+,Qf7,Qg4,Qf2+,Kh1,Qf7', 'Bg6,Qxg6,Qxg6+', 'https://lichess.org/training/mKfWP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKg4T', 'Rapid', 'stevemendelsohn', 1726, 'Bassamm99', 1730, 'e4,e5,Nc3,Bc5,Qg4,d6,Qxg7,Qf6,Qxf6,Nxf6,h3,Nc6,d3,Nb4,Kd1,Bxf2,Nb5,Na6,Bg5,Ke7,h4,c6,Nc3,Bg4+,Be2,Bxe2+,Ngxe2,h6', 'Bxf6+,Kxf6,Rf1,Ke7,Rxf2', 'https://lichess.org/training/mKg4T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MkG5A', 'Rapid', 'Mari2006', 1856, 'chevalier1964', 1866, 'd4,d5,Nf3,e6,c4,c5,e3,Nc6,Nc3,a6,cxd5,exd5,Bd3,c4,Bc2,b5,b3,Bg4,h3,Bxf3,Qxf3,Nf6,bxc4,Nb4,Bf5,bxc4,O-O,Be7,Ba3,O-O,Rab1,a5,Rfe1,g6,Bg4,h5,e4,hxg4,hxg4,Nd3,Bxe7,Nxe1', 'Qxf6,Qxe7,Qxe7', 'https://lichess.org/training/MkG5A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKHDg', 'Blitz', 'hklb78', 1934, 'noabandonespingui', 1919, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nf3,Nf6,O-O,O-O,Bg5,c6,Nc3,Bg4,Be2,Nbd7,h3,Bh5,Nh4,Bxe2,Nxe2,h6,Nf5,Bc7,Bh4,Re8,Qd2,Ne4,Bxd8,Nxd2,Bxc7,Rxe2,Rfe1,Rae8,Rxe2,Rxe2,Rd1,Ne4,f3,Ng5,Rc1,Ne6,Ba5,g6,Ng3', 'Nf4,Nxe2,Nxe2+,Kf1,Nxc1', 'https://lichess.org/training/mKHDg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MkHXg', 'Blitz', 'freddy1963', 1972, 'LordMythen', 1913, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,Be2,Bg4,d4,c6,O-O,e6,Ne5,Bxe2,Nxe2,Nbd7,f4,g6,Kh1,Bg7,c3,O-O,Ng3,Rad8,Qf3,Rfe8,Bd2,Qd5,Qxd5,exd5,Rae1,Re7,f5,Rde8,fxg6,hxg6,Bg5,Nxe5,dxe5,Rxe5', 'Rxe5,Rxe5,Bxf6,Bxf6,Rxf6', 'https://lichess.org/training/MkHXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mkKkV', 'Rapid', 'bugracalis', 1670, 'JacquesLondres', 1674, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,h3,Bh5,Be2,c5,c3,Nc6,O-O,Qb6,Be3,Bxf3,Bxf3,cxd4,Bxd4,Nxd4,cxd4,Qxb2,Qa4+,b5,Qa6,Rc8,Na3,Bxa3,Rab1,Qc3,Rb3,Qc6,Qxa3,Ne7,Be2,a6,Rxb5,O-O,Rc5,Qb7,Bxa6,Qa7,Ra5,Ra8,Rb1,Nc6,Rb7,Qxd4,Ra4,Rxa6', 'Rxa6,Qa1+,Kh2', 'https://lichess.org/training/mkKkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MKkPA', 'Rapid', 'David1337_1', 1799, 'ARVA1', 1831, 'e4,e6,d4,c6,c4,d6,Nc3,a6,Nf3,Be7,b4,b5,c5,d5,exd5,exd5,Bd3,a5,bxa5,Rxa5,O-O,Nf6,Bd2,Ra8,a4,b4,Ne2,Ba6,Bxa6,Nxa6,Re1,O-O,Qb3,Ne4,Reb1,Nxd2,Nxd2,Bf6,Nf3,Re8,Re1,Nxc5,Qc2,Ne4,Qxc6,Rc8,Qb5,Be7,Ne5,f6,Nc6,Qd7,Nxe7+,Rxe7,Qxb4,Rc4,Qb5,Qf5,Ng3', 'Qxf2+,Kh1,Nxg3+,hxg3,Rxe1+,Rxe1,Qxe1+', 'https://lichess.org/training/MKkPA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MKkZt', 'Blitz', 'MarkusBloem', 1800, 'juergen_f', 1860, 'd4,e6,c4,Nf6,Nf3,d6,Nc3,Be7,g3,Bd7,Bg2,Nc6,O-O,O-O,Qc2,Nb4,Qb3,a5,a3,Na6,e4,b5,cxb5,Rb8,a4,c6,Qc2,Nb4,Qe2,cxb5,Nxb5,Bxb5,axb5,Qd7,Rxa5,Qc7,Ra4,d5,e5,Nd7,Be3,Qb6,Bd2,Qxb5,Qxb5,Rxb5,Ra7,Rd8,Rc1,Bf8,Rcc7,Nb6,Rxf7,Nd3,Bc3,Nc4,Ng5,Rb6,Bh3,Ncxb2,Nxe6,Rc8,Bd2,Nc4,Nxf8,Nxd2,Ne6,Rc1+,Kg2,Ne1+,Kg1', 'Nef3+,Kg2,Rg1#', 'https://lichess.org/training/MKkZt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKMbz', 'Rapid', 'Supercerebraco', 1830, 'habatur', 2213, 'e4,c5,c3,d6,f4,Nc6,Nf3,g6,Bb5,Bg7,O-O,e6,d4,cxd4,cxd4,Bd7,Be3,Nge7,Nc3,a6,Bxc6,bxc6,a3,O-O,Rc1,a5,Qd2,d5,exd5,cxd5,Ne5,Nf5,Bf2,Rb8,g4,Nd6,g5,Nb5,Nxb5,Bxb5,Rfe1,Qb6,Rc5,Rfc8,Rec1,Rd8,Rxb5,Qxb5,Nc6,Rdc8,Ne7+,Kf8,Nxc8,Qd7,Qc3,h6,h4,f6,gxh6,Bxh6,Bg3,f5,Qc5+,Kf7,Nd6+,Kg8,Nc8,Bf8,Qc3,a4,Be1,Rb3,Qc2,Qb5,Kg2', 'Rxb2,Bf2,Rxc2', 'https://lichess.org/training/mKMbz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MkMdq', 'Rapid', 'Anzo_01', 1755, 'bulutangkis2009', 1765, 'e4,e6,d4,b6,Nf3,Bb7,c4,g6,b3,Bxe4,Bd3,Bb7,O-O,Bg7,Bb2,Ne7,Nbd2,O-O,Rb1,d5,c5,Nd7,cxb6,axb6,a4,c5,dxc5,Nxc5,Bxg7,Kxg7,Bb5,Nf5,Ne5,Qd6,Ndf3,Ba6,Bxa6,Rxa6,b4,Nxa4,b5,Nc3,Qb3,Ra3,Qb2,Nxb1', 'Nc4+,Rc3,Nxd6', 'https://lichess.org/training/MkMdq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MKnMk', 'Rapid', 'Rom-vik8', 1809, 'DrFelipe_Alves', 1752, 'e4,c5,Nf3,d6,c3,g6,d4,cxd4,Qa4+,Nc6,cxd4,Qa5+,Qxa5,Nxa5,Bb5+,Bd7,Bxd7+,Kxd7,d5,Bg7,Nc3,a6,O-O,Nf6,Ng5,Rhf8,Rb1,Rac8,Na4,Nc4,b3,b5,bxc4,bxa4,Rb4,h6,Nf3,Nxe4,Rxa4,Nc5,Rb4,Rb8,Bd2,Rxb4,Bxb4,Rb8,Bxc5,dxc5,h3,Rb4,Rc1,Rb2,a3,Ra2,Rb1,Rxa3,Rb7+,Kd6,Rb6+,Kc7,Rc6+,Kd7,Rxc5,Kd6,Rc6+,Kd7,c5,Ra5,g3,Ra3,Nd2,Bd4,Nc4,Rxg3+,Kh2,Rc3', 'Nb6+,Ke8,Rc8#', 'https://lichess.org/training/MKnMk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MkNn8', 'Blitz', 'glitzblitz', 1623, 'fcwarrior38', 1582, 'e4,e5,Nc3,Nc6,Nf3,d6,h3,f5,d4,fxe4,Nxe4,exd4,Nxd4,Qe7,Nxc6,Qxe4+,Be3,Qxc6,a4,Nf6,Bb5,Qxb5,axb5,Be6,b3,Be7,O-O,O-O,Qd4,Nd7,Ra2,Bf6,Qd3,Rae8,c4,Ne5,Qc2,Bh4,Rxa7,Bxh3,gxh3,Rf6,Kh2,Rg6,Rg1', 'Nf3+,Kh1,Rxg1#', 'https://lichess.org/training/MkNn8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKpf6', 'Classical', 'mclinoo', 1609, 'DaemonJoker', 1603, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,d6,O-O,Bd7,d4,exd4,Nxd4,Nxd4,Qxd4,Bxb5,Nxb5,a6,Nc3,c5,Qc4,b5,Qd3,g6,Bf4,Qd7,Bg5,Bg7,Nd5,Nxd5,Qxd5,O-O,Rad1,Be5', 'Qxe5,dxe5,Rxd7', 'https://lichess.org/training/mKpf6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MkPMu', 'Rapid', 'Mtal04', 2049, 'Archablue_Lull', 2001, 'e4,c5,Nf3,d6,Bb5+,Nd7,d4,cxd4,Nxd4,Nf6,Nc3,g6,g4,a6,g5,axb5,gxf6,Nxf6,Ndxb5,Bg7,O-O,Bg4,f3,Qb6+,Kg2,Bh5,Qd3,Nd7,Nd5,Qc6,Nbc7+,Kf8,Nxa8,Nc5,Qa3,e6,Nb4,Qb5,Nc7,Qe2+,Kg1', 'Bd4+,Be3,Bxe3+,Qxe3,Qxe3+', 'https://lichess.org/training/MkPMu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MkQ4x', 'Rapid', 'DonaldTrump', 1604, 'inka', 1743, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Bg5,e6,Nf3,Be7,Bxf6,Bxf6,e3,O-O,Bd3,Qb6,Qc2,Na6,a3,Bd7,Bxh7+,Kh8,Bd3,Rac8,O-O,Rc7,Qe2,Qb3,g4,g5,e4,Be7,exd5,f6,dxe6,Qxe6,Qe4,Qxg4+,Qxg4,Bxg4,Nd2,Kg7,Rae1,Rh8,f3,Bc8,Nd5,Bd6,Rf2,Rd7,Bc4,Nc7,Nxc7,Bxc7,d5,Bb6,Ne4,Bxf2+,Nxf2,b6,Rd1,Bb7,Ng4,Rhd8,Ne3,a6,b4,b5,Bb3,Kg6,Kg2,f5,h4,f4,Ng4,Bxd5,Ne5+,Kh5', 'Nxd7,Bxb3,Nf6+', 'https://lichess.org/training/MkQ4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKQdY', 'Rapid', 'Herly', 1962, 'Jalexs_MS', 1997, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,Bg2,e6,h4,h6,Ne2,Nd7,c3,f6,h5,Bf7,f4,fxe5,dxe5,Qb6,Nd2,O-O-O,Nb3,Ne7,Qd3,g6,Be3,c5,O-O-O,Nc6,Kb1,gxh5,gxh5,Rg8,Rdg1,Qc7,Qb5,a6,Qa4,Nb6,Qa3,Nc4,Qa4,Nxe3,Bf3,Rxg1+,Rxg1,Nc4,Nec1,Be8,Bg4,Bd7,Na1,N6xe5,Bxe6,Bxe6,fxe5,Bf5+,Nc2,b5,Qxa6+,Qb7,Qf6,Nd2+,Ka1,Bxc2,e6,Qa7,Re1,Nb3+,Nxb3,Bxb3,a3,b4', 'e7,Qxe7,Rxe7,Bxe7,Qxe7', 'https://lichess.org/training/mKQdY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MKRj8', 'Rapid', 'Egadaniel', 1730, 'Tyaka', 1894, 'd4,d5,e3,e6,Nc3,Bb4,Bd2,a6,Nf3,b5,Ne5,Nf6,a3,Bd6,Qf3,Bb7,Qg3,O-O,Bd3,Ne4,Nxe4,dxe4,Be2,Bxe5,Qxe5,Nd7,Qh5,Nf6,Qh3,Bd5,O-O,h6,Bb4,Re8,b3,Nh7,c4,bxc4,bxc4,Bb7,Bd1,Ng5,Qg4,f5,Qf4,a5,Bc5,Ba6,Rc1,Nf7,Ba4,Kh7,Bxe8,Qxe8,Qxc7,e5,Qb6,exd4,Bxd4,Ng5,Qc5,Qg6,Qc7,Nf3+,Kh1,Nxd4,exd4,Rc8,Qxa5,Rxc4,Rxc4,Bxc4,Rg1,f4,Qe5,e3,fxe3,fxe3,Qxe3,Bd5,a4,h5,a5,h4,h3,Qf5,a6,g5,a7,Kh6,Qe8', 'Qxh3#', 'https://lichess.org/training/MKRj8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mkRMh', 'Rapid', 'Arafikbuy', 1819, 'filaPro', 1807, 'e4,c6,Nc3,d5,exd5,cxd5,Nf3,Nf6,Bd3,Bg4,O-O,e6,h3,Bxf3,Qxf3,Nc6,Bb5,a6,Bxc6+,bxc6,d4,Be7,Re1,O-O,Be3,Qb6,Na4,Qa5,Nc5,Bxc5,dxc5,Rab8,b3,Ne4,Bd4,Nxc5,c3,Ne4,b4,Qd8,Qg4,Qg5', 'Rxe4,Qxg4,Rxg4', 'https://lichess.org/training/mkRMh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mkt4u', 'Rapid', 'Miklegro', 1935, 'baselsaleh', 1807, 'e4,e5,Bc4,Nc6,a3,Nf6,Nc3,Nd4,Nge2,d6,h3,c5,Ng3,Be7,Nd5,Nxd5,Bxd5,Rb8,c3,Nb5,Qa4,Bd7,Qb3,O-O,Nf5,a6,g4,Bg5,d3,Bxc1,Rxc1,Qg5,Rc2,g6,h4,Qxg4', 'Nh6+,Kg7,Nxg4', 'https://lichess.org/training/mkt4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mkTFT', 'Rapid', 'dsirola', 1624, 'erickmanuelh', 1632, 'g3,d5,b3,c5,Bb2,Nc6,Bg2,e6,d3,Nf6,Nf3,Be7,Nbd2,O-O,O-O,b5,a3,a5,e3,Bb7,c4,dxc4,bxc4,b4,axb4,axb4,Rxa8,Bxa8,Qc2,Qb6,Qb3,Na5,Qc2,Rb8,Rb1,Bc6,Nb3,Ba4,Nfd2,Nd7,Ra1,Nxb3,Rxa4,Nxd2,Qxd2,Qd6,d4,Nb6,Ra7,Nxc4,Qc2,Nxb2,Qxb2,Bd8,dxc5,Qxc5,Ra8,Rxa8,Bxa8,f5,Qb3,Kf7,Kg2,Qc3,Qa4,b3,Qd7+,Be7,Bd5,Qe5,Bxb3,Qd6,Qc8,h5,h4,g6,Qh8,Qd7,Qh7+,Kf6,Qh8+,Kf7,Qe5', 'Qb7+,Kh2,Qxb3', 'https://lichess.org/training/mkTFT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MktJF', 'Rapid', 'ImRealBadAtChess', 1655, 'sirob', 1713, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,a6,Nc3,Bf5,Nf3,Bg4,h3,Bh5,Qa4+,Qd7,Qxd7+,Nbxd7,Ne5,e6,O-O,Nxe5,dxe5,Nd7,f4,Bc5,Bb3,Bg6,Kh2,O-O-O,e4,h5,f5,Bh7,Bg5,Rde8,Ba4,b5,Bb3,Nxe5,f6,g6,Bf4,Nc6,Rac1,Bd6,Bxd6,cxd6,Ne2,Kd7,a4,Rc8,Rfd1,Ne5,Nd4,Rxc1,Rxc1,g5,axb5,axb5,Nxb5,Bxe4,Ba4,Bc6,b3,Rb8,Nd4,Bxa4,bxa4,Rb4,Nf3,Nxf3+,gxf3,Rxa4,Rb1,Ra7,Kg3,e5,h4,gxh4+,Kxh4,Ke6,Kg5,Ra3,Rb7,Rxf3,Re7+,Kd5,Rxf7,Rg3+,Kxh5,Ke6,Rg7,Rh3+,Kg6,Rh8', 'Re7+,Kd5,f7', 'https://lichess.org/training/MktJF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKtta', 'Classical', 'Pealp', 1802, 'Luks1', 1784, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Bg4,h3,Bh5,O-O,e6,a3,Bd6,d3,O-O,Bg5', 'Bxf3,Qxf3,Qxg5', 'https://lichess.org/training/mKtta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mkTTG', 'Rapid', 'Augh', 1701, 'zasfet', 1612, 'e4,e5,Nf3,d6,Bc4,Bg4,c3,c6,Qb3,Qe7,d4,h6,Nh4,Nf6,O-O,Nxe4,f3,d5,fxg4,dxc4,Qxc4,Nd6,Qb3,Qxh4,dxe5,Qxg4,exd6,Qd7,Re1+,Kd8,Bf4,Na6,Na3,Nc5,Qc2,b6,Nc4,Kc8,b4,Ne6,Ne5,Qxd6,Rad1,Qc7,Rd7,Qxd7,Nxd7,Kxd7,Rd1+,Kc8,Qe4,Kb7,Rd7+,Ka6,b5+,cxb5,Qxa8', 'Bc5+,Kf1,Rxa8', 'https://lichess.org/training/mkTTG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MkuMJ', 'Rapid', 'radovankaluza', 1737, 'AnAngryWookie', 1745, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,f4,Bg7,Nc3,e5,Nde2,Nc6,Nb5,Qa5+,Nbc3,exf4,Bxf4,Be5,Bxe5,dxe5,Qd5,Qxd5,Nxd5,Be6,O-O-O,Bxd5,exd5,Nb4,a3,Na6,Nc3,Nc5,d6,Kd7,Bb5+,Kd8,Nd5,a6,Be2,f5,Nb6,Rb8,d7,Kc7,d8=Q+,Rxd8,Rxd8,Kxd8,Rd1+,Kc7,Nd5+,Kd6,Bc4,b5', 'Nf6+,Ke7,Nxg8+', 'https://lichess.org/training/MkuMJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MKuWe', 'Rapid', 'jaavi1277', 1930, 'MattBroudy', 1989, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,Bb4,Qa4+,Nc6,e3,Ne4,Qc2,Bxc3+,bxc3,O-O,a3,f5,cxd5,exd5,c4,Re8,cxd5,Qxd5', 'Bc4,Qxc4,Qxc4+', 'https://lichess.org/training/MKuWe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MKvB3', 'Blitz', 'FKapperwood', 1701, 'MisterPorto', 1688, 'e3,d5,c4,dxc4,Nf3,Nf6,Bxc4,Nc6,a3,Bg4,Nc3,e6,h3,Bh5,g4,Bg6,g5,Ne4,Nxe4,Bxe4,Rg1,Be7,h4,Bxf3,Qxf3,Ne5,Qe2,Nxc4,Qxc4,Qd6,b4,O-O-O,d4,e5,Bb2,exd4,Bxd4,Kb8,Rc1,Rc8,Qxf7,Rhe8,Qxg7,Qd5,Rc5,Qb3,Rc3,Bxb4,Bxa7+,Kxa7,Qd4+,Kb8,Qxb4,Qd5,Rg4,Rcd8,Rd4,Qh1+,Kd2,Rxd4+,Qxd4,Qg2,Qf4,Rd8+,Ke2,Qd5,Qxc7+,Ka8,Kf1', 'Qh1+,Ke2,Qd1#', 'https://lichess.org/training/MKvB3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mkVrZ', 'Blitz', 'CM AAponte', 2386, 'Peristeria', 2289, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,Bc5,e5,Nfd7,d4,Be7,Bd3,c5,c3,Nc6,O-O,f6,Re1,cxd4,cxd4,Qc7,a3,fxe5,dxe5,Ndxe5,Nxe5,Nxe5,Qh5+,Nf7,Nf3,g6,Qg4,e5,Qa4+,Kf8,Bf1,Kg7,b4,Bd7,Qb3,Be6,Nxe5,Nxe5,Rxe5', 'Qxe5,Bb2,d4', 'https://lichess.org/training/mkVrZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MkxEW', 'Blitz', 'Mamarmar', 2021, 'Haibery', 2202, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,Qa5+,Bd2,Qc7,O-O-O,Bd6,Kb1,O-O-O,Ne4,Ngf6,Nxd6+,Qxd6,Rhe1,Rhe8,g3,Nxh5,Be3,Nhf6,Qb3,Nd5,Ne5,Nxe5,dxe5,Qb8,Bc5,b6,Bd6,Qb7,c4,Ne7,Re3,Nf5,Red3,Nxd6,Rxd6,c5,Qb5,Qe4+,Kc1,Kc7,Qa6,Rxd6,Qxa7+,Qb7,exd6+,Kc6,Qa4+,b5,cxb5+,Kb6,d7,Rd8,Rd6+,Kc7,Ra6,Qh1+,Kc2,Rxd7,b6+,Kd8,Ra8+,Ke7,Ra7', 'Qd1+,Kc3,Qd3#', 'https://lichess.org/training/MkxEW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKy1l', 'Blitz', 'Motal98', 2164, 'CM HabibAmini', 2322, 'd4,d6,c4,Nf6,Nc3,g6,e4,Bg7,Bg5,O-O,f3,h6,Be3,e5,Qd2,Kh7,g4,exd4,Bxd4,Nc6,Be3,Bxg4,fxg4,Nxg4,O-O-O,h5,h3', 'Nxe3,Qxe3,Bh6,Qxh6+,Kxh6', 'https://lichess.org/training/mKy1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MKz0b', 'Blitz', 'miguelnm', 1922, 'ahmd11', 1933, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Nbd7,Be2,e5,Nf5,Qc7,Qd2,b5,Bxb5,axb5,Nxb5,Qb8,Nbxd6+,Bxd6,Nxd6+,Ke7,Nf5+,Kf8,Bc5+,Nxc5', 'Qd8+,Ne8,Qe7+,Kg8,Qxe8#', 'https://lichess.org/training/MKz0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mkz5i', 'Rapid', 'Ebdabrarlaluh', 1610, 'Ariana93', 1610, 'e4,Nf6,e5,Nd5,c4,Nb6,Nf3,d5,cxd5,Qxd5,d4,Nc6,Be3,e6,b3,Bb4+,Nbd2,Bc3,Rc1,Bxd4,Bc4,Nxc4,bxc4,Qc5,Bxd4,Nxd4,Nxd4,Qxd4,O-O,Qxe5,Nf3,Qd6,Qa4+,Bd7,Qb3,Bc6,Rcd1,Qf4,Rd3,O-O,Rfd1,a6,g3,Qe4,Re3,Qg6,Ne5,Qf5,Nxc6,bxc6,Qb7,Qc2,Red3,Qxc4', 'Qxa8,Qxd3,Qxf8+,Kxf8,Rxd3', 'https://lichess.org/training/mkz5i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MKzPv', 'Rapid', 'zubr2110', 1678, 'encargado', 1712, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bxb5,Qxd5,Qe2,Bd6,Nxf7,Kxf7', 'Bc4,Nd4,Bxd5+', 'https://lichess.org/training/MKzPv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mKzwh', 'Rapid', 'bjgriz', 1886, 'AlexandreOrnellasCar', 1714, 'e4,e5,Nc3,Bc5,Qf3,Qf6,Nd5,Qxf3,Nxf3,Bd6,Bc4,h6,d4,c6,dxe5,cxd5,exd6,dxc4,Bf4,Nf6,O-O-O,O-O,e5,Nh7,Nd4,Nc6,Nxc6,bxc6,Rd4,Ba6,Re4,Bb5,Rhe1,a5,h4,a4,a3,Rfe8,g4,Ra5,Bd2,Ra6,f4,c5,f5,Nf8,Bc3,Raa8,Rg1,f6,g5,fxg5,hxg5,hxg5,Rxg5,Nh7,Rg6,Nf6,Rh4,Nd5,e6,Nxc3,f6,Rxe6', 'Rxg7+,Kf8,Rh8#', 'https://lichess.org/training/mKzwh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ML02l', 'Blitz', 'Arvinbetonio40', 1981, 'gob_lindarose24', 1995, 'Nf3,d5,g3,e6,Bg2,Nf6,O-O,Bd6,d4,O-O,c4,c5,Nc3,cxd4,Nxd4,dxc4,Qa4,Bd7,Qxc4,Nc6,Nxc6,Bxc6,Bxc6,Rc8,Rd1,Rxc6,Qh4,Qc7,Bg5,Be7,Rac1,h6,Bf4,Qc8,Ne4,Nd5,Qh5,Nxf4,Rxc6,Nxe2+,Qxe2,Qxc6,h4,f5,Nc3,Rf7,Nb5,a6,Nd4,Qb6,Qxe6,Qxb2,Nxf5,Bc5,Rd8+,Kh7,Qxf7', 'Qxf2+,Kh1,Qg1#', 'https://lichess.org/training/ML02l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ML15C', 'Rapid', 'LM Rochade_Augsburg', 2239, 'swine', 1850, 'Nf3,d6,g3,e5,Bg2,Nf6,O-O,Be7,c4,O-O,d3,Nc6,Nc3,d5,cxd5,Nxd5,Nxd5,Qxd5,b3,Bf6,Bb2,e4,dxe4', 'Qxd1,Rfxd1,Bxb2', 'https://lichess.org/training/ML15C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ML1sS', 'Rapid', 'Petro2560', 1895, 'kancha11', 1907, 'd4,Nf6,Bf4,e6,e3,b6,Nd2,Ba6,Bxa6,Nxa6,a3,c5,dxc5,Bxc5,Ngf3,O-O,Qe2,Nc7,Bg5,Be7,h4,Ncd5,O-O-O,Qc7,Nd4,Rfe8,g4,Rac8,N2b3,Ne4,Qd3,f6,Qxe4,fxg5,hxg5,g6,Nxe6,dxe6,Qxe6+,Kg7,Nd4,Nc3,bxc3,Bxa3+,Kd2', 'Qxc3+,Ke2,Rxe6', 'https://lichess.org/training/ML1sS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ml3Aq', 'Rapid', 'lokmanynl', 1814, 'adstiger2010', 1780, 'Nf3,d5,c4,d4,e3,dxe3,fxe3,Nf6,d4,Bg4,Be2,Bxf3,Bxf3,Nc6,Qb3,Na5,Qa4+,Nc6,O-O,Qd7,d5,Ne5,Qb3,e6,Qxb7,Qd8,dxe6,Nxf3+,Rxf3,fxe6,Nc3,Bc5,Qc6+,Nd7,a3,Be7,b4,e5,e4,Bf6,Bb2,O-O,Raf1,Nb6,Nd5,Nxd5,exd5,Qd6,Qa4,e4,R3f2', 'Bxb2,Rxf8+,Rxf8', 'https://lichess.org/training/Ml3Aq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mL4QB', 'Rapid', 'Ma1alfa', 1802, 'jeebers', 1776, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Be2,Bc5,O-O,Nxe4,d4,Bd6,Bf3,Ng5,Re1+,Be6,Bxg5,Qxg5,d5,cxd5,Bxd5,Qh6,g3,O-O-O,Bxe6+,fxe6,Qg4,Rde8,Nc3,Rhf8,Re2,Kb8,Rae1,Bc5,Rxe6,Rxe6,Qxe6', 'Bxf2+,Kg2,Bxe1', 'https://lichess.org/training/mL4QB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ML5Zn', 'Rapid', 'JG2020', 1816, 'YBReal', 1831, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,Nc6,c3,Be7,Bd3,O-O,Nbd2,h6,h3,Bd6,Bxd6,Qxd6,O-O,Nh7,Qc2,f5,a3,Nf6,c4,Ne4,c5,Qe7,b4,a6,b5,axb5,Bxb5,Bd7,Bxc6,Bxc6,Ne5,Qf6,Rfb1,Rad8,Ndf3,g5,Nxc6,bxc6,Ne5,f4,Nxc6,Rde8,Ne5,Re7,Rb7,fxe3,fxe3,Nf2,Kh2,Ne4,a4,Qf5,Rbb1,g4,Rf1,g3+,Kh1', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/ML5Zn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ML6kD', 'Rapid', 'ignaciope', 2023, 'amateurd', 1951, 'd4,Nf6,c4,e5,e3,exd4,exd4,Bb4+,Bd2,Bxd2+,Nxd2,O-O,Ngf3,Re8+,Be2,d5,O-O,Bg4,cxd5,Nxd5,h3,Bh5,Re1,Nc6,Ne5,Bxe2,Rxe2,Nxd4,Re1,Nf4,Nef3,Rxe1+,Qxe1,Nc2,Qe4,Nxa1,Qxf4,Nc2,Qc4,Ne1,Ne5,Qxd2,Nxf7,Rf8', 'Nh6+,Kh8,Qg8+,Rxg8,Nf7#', 'https://lichess.org/training/ML6kD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ML6x2', 'Blitz', 'dk_555', 1696, 'DUCALO1191', 1665, 'Nf3,d5,e3,c5,d4,Nf6,c4,e6,Nc3,Nc6,Be2,dxc4,Bxc4,Be7,O-O,O-O,a3,b6,d5,exd5,Nxd5,Na5,Nxe7+,Qxe7,Ba2,Ba6,Re1,Rad8,Qa4,Ne4,b4,Qf6,Rb1,Rd6,bxa5,Qxf3,gxf3', 'Rg6+,Kh1,Nxf2#', 'https://lichess.org/training/ML6x2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ML8GP', 'Rapid', 'alnen', 2083, 'blunder-anyway', 2051, 'e4,Nf6,e5,Nd5,Nf3,d6,exd6,cxd6,Bc4,Nf6,d4,d5,Bb3,Nc6,O-O,Bg4,c3,e6,Bg5,Qc7,Bxf6,gxf6,Nbd2,Rg8,Re1,Bd6,g3,h5,Qc2,h4,Nxh4,Rh8,Ng6,fxg6', 'Qxg6+,Qf7,Qxg4', 'https://lichess.org/training/ML8GP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ml8oL', 'Rapid', 'vikasthesailorman', 1782, 'mlkchess123', 2123, 'c4,e5,Nc3,f5,Nf3,Nf6,Nxe5,Bd6,Nf3,O-O,e3,Ne4,d3,Nxc3,bxc3,Nc6,d4,b6,Bd3,Ba6,Qc2,g6,O-O,Qf6,Rd1,Qf7,Qb3,Na5,Qa4,Bxc4,Ng5,Qd5,Qxd7', 'Bxh2+,Kxh2,Qxd7', 'https://lichess.org/training/ml8oL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MlAMe', 'Rapid', 'Atobos27', 2025, 'dimitrovec60', 2006, 'd4,g6,c4,Bg7,Nf3,d6,Bf4,Bf5,Nc3,Nd7,Qb3,c5,d5,b6,e4,Bg4,Be2,Bxf3,Bxf3,Ngf6,Rc1,O-O,O-O,Ne8,Ne2,e5,Be3,Qh4,Qc2,Nef6,h3,Nh5,Qd2,Ndf6,Bg5,Bh6,Bxh6,Nf4,Bg5,Nxh3+,gxh3,Qxh3,Bxf6,Qxf3,Qg5,Qxe2,Qh6,Qg4+,Kh1', 'Qf3+,Kg1,Qxf6', 'https://lichess.org/training/MlAMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mlav6', 'Classical', 'Mrpiano', 1809, 'noname_man', 1641, 'e4,e5,Nf3,Qf6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Bd2,Nc6,Bxb4,Nxb4,Qa4+,Nc6,d5,Qxb2,dxc6,b6,Qb3,Qxa1,Bxf7+,Kf8,O-O,Qf6,Bd5,Bg4,Nfd2,Ne7,f3,Qd4+,Kh1,Bh5,g4,Nxd5,Qxd5,Qxd5,exd5,Bf7,Nc3,g6,Re1,Re8,Re4,Kg7,Kg2,Rxe4,fxe4,Re8,Kf3,g5,a4,a6,a5,b5,Nb3,h5,h3,hxg4+,hxg4,Rf8,Ke3,Bg6,Nd4,Bf7,Ke2,Rh8,Nf5+,Kf6,Nxd6,cxd6,Kd3,Ke5,Ne2,Rh3+,Kd2,Kxe4,Ng3+,Kxd5,c7,Rh8,Nf5,Rc8,Ne7+,Ke6,Nxc8,Kd7', 'Nxd6,Kxc7,Nxf7', 'https://lichess.org/training/Mlav6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mlB5p', 'Classical', 'Erethrus', 1799, 'Quaby', 1758, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Nf3,Nbd7,Bd3,Bb4,Bd2,O-O,Qc2,c5,a3,Bxc3,Bxc3,Qc7,b3,cxd4,Bxd4,e5,Nxe5,Nxe5,cxd5,Nxd3+,Qxd3,Qa5+,Bc3,Qxd5,Rd1,Qxd3,Rxd3,Bf5,Rd1,Ne4,Bb4,Rfd8,Ke2,Rxd1,Rxd1,a5,Be1,h6,f3,Rc8,fxe4', 'Bg4+,Kf2,Bxd1', 'https://lichess.org/training/mlB5p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLBnC', 'Rapid', 'zwutangclan', 2026, 'emcor', 2029, 'c4,e5,Nc3,Qe7,g3,Nf6,Bg2,Nc6,e4,b6,Nge2,Bb7,O-O,O-O-O,Rb1,h5,a3,h4,b4,hxg3,fxg3,Nd4,Nxd4,exd4,Nd5,Qe5,d3,Bd6,Bf4,Qe6,Nxf6,Qxf6,Bxd6,Qxd6,Rxf7,Qh6,h3,Qe3+,Kh2,g5,Qf3,Qd2,Rd1,Qc3,Rf1,Ba8,Qf5,Qxd3,Bf3,Qxa3,Bg4,Qxb4,Rxd7,Kb8,Qe5,Qc5,Qg7,Bxe4,Rff7,Rc8', 'Rxc7,Qxc7,Rxc7', 'https://lichess.org/training/mLBnC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MLBsE', 'Rapid', 'Red-white', 1916, 'tatvabodha', 1969, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,Nbd7,Nf3,c5,d5,O-O,Be2,a6,O-O,b5,cxb5,axb5,Bxb5,Qb6,Bxd7,Bxd7,h3,Nh5,g4,c4+,Kg2,Nf6,Qe2,Qc7,e5,dxe5,fxe5,Ne8,Bf4,e6,d6,Qc6,Kh2,f5,g5,Bh8,Nd4,Qc5,Nf3,Ng7,Be3,Qb4,a3,Qb7,Qxc4,Qxb2+,Qe2,Qxc3,Rfc1,Qa5,Rc7,Bb5,Qc2,Ne8,Rc5,Qa4,Qxa4,Bxa4,Nd4,f4,Nxe6,fxe3,Nxf8,Kxf8,Re1,Ng7,Rxe3,Ne6,Rf3+,Ke8,d7+,Bxd7,Rd5,Nxg5,Rfd3,Be6,Rc5,Rd8,Rxd8+,Kxd8,a4,Bxe5+,Kg2,Bf6,a5,Bd4,Rxg5,Bf5,Rg3,Kc8,Rb3,Kc7,a6,Be6,Rb7+,Kc8,Rxh7,Kb8,Re7,Bc4,Rd7,Be3,Kf3,Bc5,h4,Bb5', 'Rb7+,Ka8,Rxb5', 'https://lichess.org/training/MLBsE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MLBYA', 'Rapid', 'Jules88', 1750, 'Sergnik', 1775, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,d4,exd4,Nxd4,Be7,O-O,O-O,h3,c5,Nf5,Nc6,Be3,Ne5,Be2,Nxe4,Nxe4,Bxf5,Qd5,Be6,Qxb7,Rb8,Qxa7,Rxb2,Rac1,Rxa2,Qb7,Ra8,Nc3,Rb8,Qe4,f5,Qf4,Bg5,Qa4,Rb4,Qa3,f4,Bd2,Bc4,Ne4,Bxe2,Rfe1,Rxe4,f3,Nc4,Qb3,Re7,Bc3,Bh4,Rxe2,Rxe2,Qxc4+,Kh8,Qxe2,Bg3,Qe6,Re8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/MLBYA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mlfw6', 'Rapid', 'mansyr-222', 1813, 'ali-oleg', 1838, 'd4,e6,Bf4,f5,Nf3,Nf6,e3,Be7,Nbd2,O-O,Bd3,b6,Ne5,Bb7,Rg1,Nc6,g4,Nxe5,Bxe5,d6,Bxf6,Bxf6,gxf5,Bh4,Qg4,Qf6,O-O-O,exf5,Bxf5,Bxf2,Rgf1', 'Qxf5,Qxf5,Rxf5', 'https://lichess.org/training/mlfw6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLFZv', 'Blitz', 'cashman', 1635, 'topo6', 1542, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,h3,O-O,d3,h6,O-O,a6,Nh2,d6,Kh1,Be6,Bb3,Nd4,Bxe6,fxe6,f4,exf4,Bxf4,e5,Bd2,Qe8,Ne2,Nh5,Rxf8+,Qxf8,Nxd4', 'Ng3+,Kg1,Bxd4+,Be3,Bxe3#', 'https://lichess.org/training/mLFZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MLgDM', 'Bullet', 'user1848', 1654, 'mortaza90', 1707, 'd4,e5,dxe5,Bc5,Nf3,c6,e4,a6,Bc4,Ne7,Bxf7+,Kxf7,Ng5+,Kg8,c3,Qf8,O-O,h6,Qb3+,d5,Nf3,Kh7,exd5,cxd5,c4,dxc4,Qxc4,Ng6,Nc3,b5,Qd5,Ra7,Ne4,Bb7,Qd3,Bxe4,Qxe4,Nd7,Be3,Bxe3,Qxe3,Rg8,Rad1,Qf4,Qxa7,Ndxe5,Nxe5,Nxe5,Qxa6,Rf8,Qxb5,Rf5,Qb6', 'Nf3+,gxf3,Rg5+,Kh1,Qxf3#', 'https://lichess.org/training/MLgDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLgfv', 'Rapid', 'urbanist', 1759, 'syarifalwi', 1726, 'Nc3,d5,d4,e6,Bf4,Bb4,e3,Nc6,a3,Ba5,b4,Bb6,Bd3,Qf6,Nf3,Bd7,O-O,O-O-O,Na4,Nh6,Nxb6+,axb6,c4,dxc4,Bxc4,Nf5,Qb3,h6,Ne5,Nxe5,Bxe5,Qg5,a4,Nh4,Bg3,Nf5,b5,Nxg3,hxg3,h5,a5,h4,g4,h3,g3,Qxg4,Kh2,f5,axb6,cxb6,Ra8+,Kc7,Rc1,Rxa8', 'Be2+,Kd8,Bxg4', 'https://lichess.org/training/mLgfv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MlgN1', 'Blitz', 'FM CalypsoChess', 2025, 'Majicstick', 2000, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,Bb4,O-O,Nge7,a3,Bxc3,bxc3,O-O,a4,a6,Ba3,Re8,Bd6,Ng6,Nd4,Nce5,Bb3,Qb6,Rb1,Qxd6,f4,Nc6,f5,Nge5,Qh5,Qc5,fxe6,dxe6,Kh1,Nxd4,cxd4,Qxd4,Rbd1,Qc3,Ba2,Ng6,Rf3,Qe5,Qh3,Qxe4,Rdf1,Rf8,Qg3,Bd7,Bb1,Qxa4,Qf2,f5,Ba2,Rae8,Bb3,Qb5,Re1,Kh8,h4,Ne5,Rf4,Ng4,Qg3,Qb6,Ref1,Rc8,Qxg4,Qxb3,R4f3,Qc4,Qg5,Qc5,Rg3,Rg8,h5,Bb5,h6,Bxf1', 'hxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/MlgN1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MLhMd', 'Rapid', 'TheEvets', 1626, 'cchyy', 1679, 'd4,Nf6,c4,e5,Nf3,e4,Nfd2,c6,f3,e3,Ne4,d5,Nxf6+,Qxf6,Bxe3,dxc4,Nc3,Bb4,Bf2,c5,e3,Nc6,Bxc4,cxd4,exd4,O-O,O-O,Bd6,Ne4,Qh6,Nxd6,Qxd6,d5,Nb4,a3,Qf4,b3,Na6,d6,Bd7,Qd5,Be6,Qxb7,Bxc4,bxc4,Qxc4,Rac1,Qa4,d7,Qxa3,Rc8,Nc5,Rxf8+,Rxf8,Qc8,Ne6,Re1,Qe7,Bc5', 'Qxc5+,Qxc5,Nxc5', 'https://lichess.org/training/MLhMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLhrY', 'Blitz', 'Z-A-M-B-R-O-TT-A', 1893, 'dayberi', 1952, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,Nf6,Nc3,e6,Bd2,Bb4,O-O-O,O-O,Qg3,Qa5,Nge2,Kh8,a3,Bxa3,bxa3,Qxa3+,Kb1,Nb4,Bc1,Qa5,f3,d5,exd5,Nfxd5,Qe5,Bd7,Qd4,Rac8,Bb2,Rc5,Nxd5', 'Qa2+,Kc1,Rxc2#', 'https://lichess.org/training/mLhrY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLHwE', 'Rapid', 'P895', 2206, 'brsil', 2189, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Nd5,Nxd5,Qxd5,Be6,Qd1,Be7,Bd3,O-O,O-O,a6,Nc3,b5,a4,b4,Ne2,d5,f3,Qb6+,Kh1,Rfd8,Ng3,dxe4,fxe4,b3,Qf3,Nd4,Qf2,bxc2,Bxc2,Rac8,Bd3,Bh4,Be3,Bxg3,Qxg3,f6,Rxf6,Qxb2,Raf1,Bc4,Bxc4+,Rxc4,Qxg7+,Kxg7', 'Bh6+,Kh8,Rf8+,Rxf8,Rxf8#', 'https://lichess.org/training/mLHwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MLHx2', 'Classical', 'BALBAS', 1753, 'wwQQ-666', 1744, 'd4,Nf6,c4,e6,Nc3,c5,e3,a6,a4,Qc7,Nf3,cxd4,exd4,Bb4,Bd2,O-O,Bd3,Nc6,O-O,Ne8,Qc2,f5,Ne2,Bxd2,Qxd2,Rf6,Rfc1,Rh6,d5,Na5,Qd1,Nd6,c5,Ne4,Ng3,Qf4,Bxe4,fxe4,Nd4,e3,fxe3', 'Qxe3+,Kh1,Qxg3', 'https://lichess.org/training/MLHx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLib6', 'Blitz', 'berugo56', 1767, 'thefedexpress', 2158, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nf3,Nc6,Bc4,Be6,Bxd5,Bxd5,Nxd5,Qxd5,O-O,O-O-O,Re1,e5,d3,f6,Be3,Bc5,Bxc5,Qxc5,Qd2,Rhe8,Qe2,Nd4,Nxd4,Qxd4,b3,Re7,Qh5,g6,Qh6,Rde8,Rac1,e4,dxe4,Rxe4,Red1', 'Qxd1+,Rxd1,Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/mLib6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLjoz', 'Classical', 'paulpee', 1734, 'Al-joker1999', 1649, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,h6,c3,a6,d4,exd4,cxd4,Nxd4,Nxd4,d6,Be3,Qf6,h3,Ne7,Nd2,Bxd4,Nf3,Bxb2,Rb1,O-O,Re1,d5,exd5,Bf5,Bd3,Bxd3,Qxd3,Rad8,Nd4,Bxd4,Bxd4,Rxd5', 'Bxf6,Rxd3,Bxe7', 'https://lichess.org/training/mLjoz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLkEz', 'Rapid', 'D4dan', 1856, 'Gasto0', 1852, 'e4,c5,Nf3,Nc6,g3,g6,Bg2,Bg7,c3,d6,O-O,Nf6,d3,O-O,Nbd2,b5,Nh4,Bb7,f4,Qc7,f5,Ne5,Qe2,Nh5,Ndf3,c4,d4,Nd3,Ne1,Nxc1,Rxc1,Rae8,Nef3,e6,fxg6,fxg6,Ng5,Qe7,Ngf3,a6,Qe3,Rf7,Ng5,Rff8,Bh3,Bc8,Ngf3,e5,Bxc8,Rxc8,d5,Nf6,h3,Nh5,Kg2,Bf6,Rf2,Rf7,Rcf1,Rcf8,Qe2,Nxg3', 'Kxg3,Bxh4+,Nxh4,Rxf2,Rxf2,Qg5+,Qg4', 'https://lichess.org/training/mLkEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mlklL', 'Rapid', 'inemuri', 1867, 'kevban', 1961, 'e4,e6,Nf3,d5,Nc3,Nf6,exd5,exd5,d4,Bg4,h3,Bh5,g4,Bg6,Ne5,Nbd7,Nxg6,hxg6,Bg5,c6,Qe2+,Be7,O-O-O,O-O,Re1,Re8,Bg2,b5,h4,b4,Na4,Ne4,Bxe7,Qxe7,Bxe4,Qxe4,Qxe4,Rxe4,Nc5,Nxc5,dxc5,Rxg4,Re7,Rc4,h5,gxh5,Rxh5,Rxc5,f4,g6,Rhe5,Rc4,f5,gxf5,Rxf5,Rf8,Rxa7,Kg7,Rf3,Rg4,Rc7,Rg6,a3,bxa3,bxa3,Rh8', 'Rcxf7+,Kg8,Rf8+', 'https://lichess.org/training/mlklL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mlkm6', 'Blitz', 'Kicim', 1529, 'MalvadoDrTocino', 1652, 'Nf3,d5,d4,Nc6,Bf4,Bf5,e3,e6,Nc3,Nb4,Bd3,Nxd3+,cxd3,Bb4,O-O,Nf6,e4,dxe4,dxe4,Bg6,e5,Nd5', 'Nxd5,Qxd5,Qa4+,b5,Qxb4', 'https://lichess.org/training/mlkm6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mlLgA', 'Rapid', 'oops4k', 1981, 'FischerBoy', 2010, 'e4,e5,Nf3,d6,d4,Nd7,dxe5,dxe5,Nc3,Bd6,Bg5,Ngf6,Bc4,h6,Bh4,a6,Qd2,g5,Bg3,b5,Bd5,Rb8,Bc6,b4,Nd5,O-O,O-O,Nxe4,Qe3,f5,Rad1,Nxg3,hxg3,e4,Nd4,Bc5,Qb3,Rf7,Ne6,Qe8,Nexc7,Qe5,Nxa6,Bxa6,Nc7,Qxc7', 'Rxd7,Qxd7,Bxd7', 'https://lichess.org/training/mlLgA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mlllG', 'Rapid', 'JoseSanchez121222', 1869, 'Ctacc', 1862, 'd4,Nf6,Bf4,Nh5,Bg5,g6,e3,Bg7,Nf3,h6,Bh4,d6,Be2,Nf6,Nbd2,b6,c4,Bb7,b4,Nc6,a3,e5,d5,Ne7,Qa4+,Nd7,O-O-O,O-O,e4,c6,Nb1,b5,cxb5,cxb5,Qxb5,Rc8+,Kd2,Nb6,Rc1,g5,Nxg5,hxg5,Bxg5,f6,Rxc8,Qxc8,Rc1,Qb8,Be3,Rc8,Rxc8+,Qxc8,Bxb6,axb6,Qxb6,Bh6+,Ke1,Qc1+,Bd1,Qxb1,Qxb7,Qxe4+,Be2,Kf7,f3,Qxd5', 'Qxd5+,Nxd5,Bc4', 'https://lichess.org/training/mlllG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mllmg', 'Rapid', 'muzavapku', 1691, 'Atep_Supriatna01', 1828, 'e3,g6,Be2,Bg7,Nf3,Nf6,Nc3,O-O,O-O,d5,h3,Nc6,d4,Bf5,b3,Ne4,Bb2,e5,dxe5,Nxe5,Nxd5', 'Nxf3+,Bxf3,Bxb2', 'https://lichess.org/training/mllmg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mlLo1', 'Rapid', 'scaccofelice', 1666, 'Lutz100', 1771, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,h3,Bd6,Bd3,O-O,O-O,Nc6,Nc3,Be6,Bg5,h6,Bh4,g5,Bg3,Bxg3,fxg3,Nh5,g4,Nf4,a3,a6,Ne2,Qd6,Nxf4,Qxf4,c3,Rae8,Ne5,Qe3+,Kh1,Nxe5,dxe5,Qxe5,Qf3,Qd6,Rae1,Bd7,Rxe8,Bxe8,Qf5,Qg6,Qxd5,Qe6,Qxb7,Bc6,Qb4,Qd5,Rf3,a5,Qc4', 'Qxc4,Bxc4,Bxf3', 'https://lichess.org/training/mlLo1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLlvf', 'Blitz', 'parham602', 1576, 'groseddy', 1561, 'd4,d5,e3,e6,Be2,h6,Nf3,a6,O-O,Nc6,Bd2,Nf6,Nc3,Bd6,Re1,e5,Bd3,e4,Bxe4,dxe4,Nh4,Ng4,g3,Bf5,Nxf5,Qg5,Nxd6+,cxd6,f4,exf3,Qxf3,h5,e4,Qg6,d5,Nd4,Qf4,Ne5,Re3,Nxc2,Rf1,Nxe3,Bxe3,O-O-O,Bd4,h4,Bxe5,dxe5,Qxe5,hxg3,hxg3,Qb6+,Rf2,Rh1+,Kxh1,Qxf2,Qxg7,Qf3+,Kh2,Qh5+,Kg2,Rh8,d6,Qh2+,Kf3,Qh1+,Kf4,Qf1+,Ke5,Rh5+,Kd4,Qf2+,Kc4,Rc5+,Kb3,Qf1', 'Qf8+,Kd7,Qe7+,Kc6,Qc7#', 'https://lichess.org/training/mLlvf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mlnnj', 'Rapid', 'poletbusevec', 2093, 'Loulou12345668966', 2118, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,c5,Nb5,d5,Bxb4,cxb4,a3,Qa5,Nd6+,Kd7,Nxf7,bxa3+,Qd2,Qxd2+,Kxd2,axb2,Rb1,Ne4+,Ke1,Rf8,Ne5+,Kd6,c5+,Ke7,Rxb2', 'Nxf2,e3,Nxh1', 'https://lichess.org/training/Mlnnj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MLOEt', 'Rapid', 'Serdge', 1794, 'Leoneu', 1721, 'e4,e6,Nc3,f5,e5,Nc6,d4,d5,exd6,cxd6,Nf3,d5,Bb5,Bd7,Bxc6,Bxc6,Ne5,Nf6,h3,Bd6,Bg5,h6,Bxf6,gxf6', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/MLOEt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MLP9U', 'Rapid', 'XiangGuo818', 1800, 'NoviBog', 1911, 'e4,e5,Nc3,Nc6,Nf3,Bc5,d3,d6,Be3,Bb6,Be2,h6,O-O,Nge7,Nd5,O-O,Bxb6,axb6,c4,Nxd5,exd5,Ne7,d4,e4,Nd2,f5,f3,e3,Nb3,f4,Qd3,Bf5,Qc3,Qe8,Rfe1,Qg6,Kh1,Qg5,c5,bxc5,dxc5,Rf6,cxd6,cxd6,Nd4,Rg6,Bf1,Bh3,Re2,Nxd5,Qc4,Kh7,Rd1,Re8,Nc2,Nf6,Rxd6,Bf5,Nd4,Rc8,Qb3,Rc1,Kg1,Bh3,Ne6,Bxe6,Rxe6,h5,Qd3,h4,h3,Kh6,Rc2,Re1,Re2,Ra1,a3,Qg3,Rb6,Qxf3', 'Qxg6+,Kxg6,gxf3', 'https://lichess.org/training/MLP9U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mlpeo', 'Rapid', 'joao001', 1947, 'antoineg89', 2047, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,O-O,a6,Bxc6,bxc6,c4,Nf6,Nc3,e5,Nde2,Be7,f4,Qb6+,Kh1,exf4,Bxf4,Be6,b3,O-O,Nd4,Bg4,Qd2,c5,Nf5,Bxf5,exf5,Rad8,Rad1,Qb4,Rfe1,Rfe8,Nd5,Qxd2,Rxd2,Nxd5,Rxd5,Kf8,g4,Rd7,Kg2,Red8,Kf3,f6,h4,h6,Rg1,Kf7,g5,hxg5,hxg5,fxg5,Bxg5,Bxg5,Rxg5,Kf6,Rg6+,Kf7,Kf4,a5,Kg5,Kf8,f6,gxf6+,Rxf6+,Ke7,Kf5,a4,Rd3,axb3', 'Re3#', 'https://lichess.org/training/Mlpeo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MlpyM', 'Rapid', 'sirohach', 1921, 'Rembald', 1948, 'e4,d6,d4,Nf6,Bd3,g6,Nf3,Bg7,Nc3,O-O,O-O,e5,dxe5,dxe5,Nxe5,Nxe4,Nxe4,Bxe5,Bg5,Qd4,c3,Qb6,Qc2,Nd7,Be3,Qa5,Bh6,Bg7,Bg5,h6,Be7,Re8,Bb4,Qe5,Rfe1,a5,Nf6+,Nxf6,Rxe5,Rxe5,Ba3,Bd7,f4,Ree8,Qb3,b6,Bxg6', 'Be6,Qc2,fxg6', 'https://lichess.org/training/MlpyM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLqwb', 'Blitz', 'kobeyard', 2066, 'bastikan', 1983, 'b4,d5,Bb2,f6,e3,e6,a3,Bd6,Nf3,Ne7,c4,c6,c5,Bc7,d4,O-O,Bd3,e5,dxe5,fxe5,Nxe5,Nd7,Nf3,Nf6,Qc2,Bg4,Nbd2,d4,Bxd4,Nfd5,Bc4,Kh8,Qb2,Nf5,O-O,Nxd4,Nxd4,Qh4,N2f3,Qh5,Be2,Rf6,g3,Raf8,Nh4,Rh6,Bxg4,Qxg4,f3,Qg5,f4,Qg4,Ng2,Qh5,h4,Re8,Rae1,Qg4,Kh2,g5,fxg5,Qxg3+,Kg1,Qh2+,Kf2,Bg3+,Ke2,Rxe3+,Kd1,Rxe1+,Rxe1,Be5,gxh6,Qg3,Nf5,Qd3+,Qd2', 'Nc3+,Kc1,Qb1#', 'https://lichess.org/training/mLqwb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MlR0R', 'Classical', 'peanut88', 1851, 'Bayran', 1702, 'd4,e5,c4,exd4,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,c5,g3,Nc6,Bg2,Nf6,O-O,O-O,Na3,d5,Ng5,h6,cxd5,Nxd5,Ne4,Qe7,Rac1,b6,Nxc5,bxc5,Bxd5,Bb7,Nc4,Nb4,Bxb7,Qxb7,a3,Nd5,b4,cxb4,Qxd4,Nc3,Rfe1,Rad8,Qf4,Rfe8,Nd6,Nxe2+', 'Rxe2,Rxe2,Nxb7', 'https://lichess.org/training/MlR0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLROK', 'Rapid', 'Eykmz', 1798, 'Ashwath_Narayanan', 1751, 'd4,d5,c4,e6,Bf4,Nf6,e3,Bb4+,Nc3,Ne4,Ne2,h5,a3,Nxc3,bxc3,Ba5,cxd5,g5,Be5,f6,Bg3,h4,Bxh4,Rxh4,dxe6,Bxe6,g3,Rh8,Bg2,Bd5,f3,g4,e4,gxf3,Bxf3,Bc4', 'Qa4+,b5,Qxa5', 'https://lichess.org/training/mLROK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MLsV3', 'Rapid', 'mital', 1760, 'HarrogateJRS', 1642, 'd4,Nf6,c4,e6,Nf3,b6,g3,d5,cxd5,Nxd5,e4,Nf6,Nc3,Bb4', 'Qa4+,Nbd7,Qxb4', 'https://lichess.org/training/MLsV3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MLtZb', 'Blitz', 'dustyduck', 2222, 'Mauandreilejavi', 2080, 'd4,e6,e4,c5,c3,d5,e5,Nc6,Nf3,Nge7,Be2,Ng6,O-O,Be7,a3,O-O,b4,cxd4,cxd4,a5,b5,Nb8,a4,Nd7,Nbd2,Nb6,Nb3,Bd7,Bd2,Nc4,Bc3,b6,g3,Rc8,Qd3,f6,exf6,Bxf6,Rfe1,Qc7,Bf1,Qd6,h4,Ne7,Bh3,Ng6,Re2,Rce8,Rae1,e5,Bxd7,e4,Rxe4,dxe4,Qxc4+,Kh8,Bxe8,exf3,Bxg6,hxg6,Nd2,Bxh4,gxh4,Qf4,Nf1,Qxh4,Qe6,Rf5,Re4', 'Rg5+,Ng3,Rxg3+,fxg3,Qxg3+,Kf1,Qg2+,Ke1,f2+,Kd2,f1=Q+', 'https://lichess.org/training/MLtZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MLuha', 'Rapid', 'Zutalors', 1869, 'montezuma2019', 1815, 'e4,e6,d4,d5,Nc3,Bb4,Bd3,c5,exd5,cxd4,Bb5+,Bd7,Bxd7+,Qxd7,Qxd4,Bxc3+,Qxc3,Nf6,Bg5,Qxd5,Nf3,Qe4+,Kf1,O-O,Bxf6,gxf6,Qxf6,Qc4+,Kg1,Qg4,h4,Nd7,Qc3,Rac8,Qd3,Nf6,Rh3,Rfd8,Qxd8+,Rxd8,Rg3,Qxg3,fxg3,Ne4,Kh2,Kg7,Re1,Nf6,Re2,b5,Ne5,Rd5,b3', 'Rxe5,Rxe5,Ng4+', 'https://lichess.org/training/MLuha');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLuiB', 'Classical', 'RajivLOL', 1701, 'trahul', 1681, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Be7,O-O,O-O,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Re1,Be6,Nd5,c6,Nxe7+,Qxe7,Bd3,Rfd8,Qb4,a5,Qc3,Qc7,Bg5,Qe7,a4,Rd7,f4,h6,Bh4,Nxe4,Bxe7,Nxc3,f5,Rxe7,fxe6,Nd5,exf7+,Kxf7,c4,Rxe1+,Rxe1,Nf4', 'Rf1,g5,g3', 'https://lichess.org/training/mLuiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLVBp', 'Blitz', 'CM bagge89', 2172, 'Wacan_Warren', 2178, 'e4,e5,Nf3,d6,Bc4,Be7,d4,Nd7,c3,Ngf6,Nbd2,O-O,O-O,c6,Qe2,Qc7,h3,d5,Bd3,exd4,cxd4,Re8,e5,Nh5,Nb3,g6,Bh6,Nf8,g4,Ng7,Qe3,Nfe6,Rae1,b6,Nfd2,c5,dxc5,bxc5,Bb1,c4,Nd4,Bc5,N2f3,Qb6,Bxg7,Kxg7,Rd1,Qxb2', 'Nxe6+,Bxe6,Qxc5', 'https://lichess.org/training/mLVBp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mLvyQ', 'Blitz', 'IM mutdpro', 2755, 'GM FeegLood', 2807, 'd4,Nf6,Nf3,d5,Bf4,g6,e3,Bg7,Be2,O-O,O-O,c5,c3,Nc6,h3,Nd7,Bh2,b6,a4,Bb7,Nbd2,e5,dxe5,Ndxe5,Nxe5,Nxe5,Nf3,Nc4,Qc2,Qe7,Nd2,Nd6,a5,d4,a6,Bd5,cxd4,cxd4,Qd3,Rad8,exd4,Nf5,Rfe1,Nxd4,Bf1,Qb4,Ne4,Be6,Rad1,Bf5,Qa3,Qxa3,bxa3,Nc2,Rxd8,Rxd8,Re2,Nd4,Re1,Nc2,Re2,Nxa3,Nd6,Be6,Re3,Bf8,Ne4,Nc4,Bxc4,Bxc4,Nf6+,Kh8,Be5,Bg7,Ng4,Bxa6,Rc3,Bc8,Nf6,Be6,Rc7,a5,Ra7,Rc8,f4,h5,g4,hxg4,hxg4,Bxf6,Bxf6+,Kg8,g5,b5,Rxa5,b4,Rb5,b3,Kf2,Kf8,Rb7,Ke8,Re7+,Kf8,Rb7,Rc5', 'Be7+,Ke8,Bxc5', 'https://lichess.org/training/mLvyQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mlx1t', 'Rapid', 'Milsosa', 2035, 'olegplus', 2007, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,d6,Bb3,Bg4,Nbd2,h6,h3,Bh5,O-O,g5,Re1,g4,hxg4,Bxg4,Nf1,h5,Be3,Rg8,Bxc5,dxc5,N1h2,Qd7,Ba4,O-O-O,Bxc6,bxc6,Re3,c4,d4,exd4,cxd4,Rge8,Nxg4,Nxg4,Ra3,Rxe4,Qa4,Qd6,Qxc4,Qd5,Qa6+,Kd7,Ra5,Qe6,Ne5+,Nxe5,Rxe5,Rxe5,dxe5,Ke7,Qxa7,Qxe5,Kf1,Kf8,a4,Re8,Rb1,Qe4,Rc1,Qe2+,Kg1,Qxb2,Qc5+,Kg8,Qg5+,Kf8,Qh6+,Kg8,Rc5,Re5,Rxc6,Qa1+,Rc1,Qxa4,Rxc7', 'Re1+,Kh2,Qh4#', 'https://lichess.org/training/Mlx1t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mlx9L', 'Rapid', 'chess_for_fun', 1696, 'anggara', 1902, 'd4,c6,e4,d5,e5,Bf5,f4,e6,Ne2,c5,c3,Nc6,Ng3,Bg6,Bd3,Bxd3,Qxd3,cxd4,cxd4,Qb6,Ne2,Nb4,Qb3,Rc8,a3', 'Nc2+,Qxc2,Rxc2', 'https://lichess.org/training/mlx9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mlxZG', 'Rapid', 'AKgs', 2131, 'EGY_WC', 2062, 'd4,d5,e3,Nf6,Bd3,Nc6,f4,Bg4,Nf3,e6,c3,Bd6,O-O,Qe7,Nbd2,O-O-O,b4,a6,a4,Bf5,Qe2,Ne4,Bb2,Na7,Nb3,h5,Nc5,Bxc5,bxc5,h4,c4,h3,g3,g5,cxd5,exd5,Rfb1,gxf4,exf4,Rdg8,Ba3,Rxg3+', 'hxg3,h2+,Nxh2', 'https://lichess.org/training/mlxZG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mlYRa', 'Rapid', 'Paralian', 1708, 'tiefblau', 1700, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,Nf6,Ng5,e6,O-O,h6,Nf3,Bd6,d4,O-O,h3,Nc6,c3,Re8,Kh1,Bd7,g4,Ne7,g5,hxg5,Bxg5,Nf5,Rg1,Be7,Ne5,Ne4,Qh5,Bxg5,Qxf7+,Kh7,Qg6+,Kg8,Nxd7', 'Nxf2+,Kg2,Nh4+', 'https://lichess.org/training/mlYRa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MLzxY', 'Rapid', 'Novemberrain', 1718, 'scarface2015', 1763, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,c4,g6,O-O,Bg7,Qc2,Bd7,b4,Nc6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Rb1,dxc4,Bxc4,O-O,Rd1,Qc7,Ne4,Nxe4', 'Bxf7+,Kxf7,Qxc7', 'https://lichess.org/training/MLzxY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mm01H', 'Classical', 'amemulo', 1682, 'Chligou', 1664, 'd4,d5,c4,e5,Nf3,exd4,Qxd4,Nc6,Qd3,Nf6,Bg5,Bg4,Nc3,Bxf3,Qxf3,Ne5,Qf4,Bd6,Qd4,c5,Qd2,d4,Ne4,Nxc4,Nxd6+,Qxd6,Qc2,Nb6,e3,h6,Bh4,dxe3,fxe3,Nbd5,Bb5+,Kf8,O-O,Nxe3,Rxf6,Qxf6', 'Qxc5+,Kg8,Bxf6', 'https://lichess.org/training/Mm01H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MM05v', 'Rapid', 'bdb88', 1661, 'Anuj_das', 1674, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,e6,Be3,Be7,Be2,O-O,O-O,b6,Qd2,Bb7,Rad1,Nbd7,Rfe1,Rc8,Nb5,a6,Nc3,Bb4,a3,Be7,b4,Ra8,Bf4,Nd5,Nxd5,Bxd5,Ne5,Nxe5,dxe5,f6,exf6,Rxf6,Be5,Rg6,g3,Qf8,Bd3,Rh6,Bxc7', 'Qf3,Be4,Bxe4,Rxe4,Qxe4', 'https://lichess.org/training/MM05v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MM0EW', 'Rapid', 'BlackWind35', 1761, 'Elxa1234', 1875, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Be3,h6,Nc3,Nf6,Bc4,Bb4,Bd2,Bxc3,Bxc3,Nxe4,Bxe5', 'Qa5+,c3,Qxe5', 'https://lichess.org/training/MM0EW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mm0xa', 'Rapid', 'Gr0dmar', 1807, 'youcefzis', 1868, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Bc4,Nf6,d4,Be6,Bb3,Bxb3,axb3,Nd5,Nf3,Nc6,Nxd5,Qxd5,c4,Qe6+,Be3,Qg6,O-O,e6,d5,exd5,cxd5,Nb4,Rxa7,Rxa7,Bxa7,Bd6,Re1+,Kd7,Bc5,Bxc5,Ne5+,Kd6,Nxg6,hxg6,h3,Rh6,Qf3,f6,Re6+,Kd7,Qc3,Nxd5,Qxc5,Kxe6,Qa7,b6,Qa4,Kd6,Kf1,Rh5,Ke2,Re5+,Kf1,g5,Qa3+,Kd7,Qf8,Re7,Qa8,Kd6,Qd8+,Ke6,g4,Rd7,Qg8+,Rf7,Kg2,Nf4+,Kg3,Ne2+,Kh2,Nd4,Qh7,Nf3+,Kh1,Ne5,Qf5+,Kd6,f4,gxf4,Qxf4,Re7,g5,fxg5,Qxg5,Rd7,h4,Rf7,h5', 'Rf1+,Kg2,Rg1+,Kxg1,Nf3+,Kg2,Nxg5', 'https://lichess.org/training/mm0xa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mm2r7', 'Rapid', 'ErwinAhmadS', 1929, 'charanraj', 1944, 'Nf3,c5,d4,cxd4,Nxd4,d6,e4,Nc6,Nf5,Bxf5,exf5,Qa5+,Bd2,Qxf5,Bd3,Qe5+,Be2,Qxb2,Bc3,Qb6,Nd2,Nf6,Nf3,e5,O-O,Be7,Rb1,Qc7,Bb5,O-O,Re1,a6,Ba4,e4,Bxf6,Bxf6,Rxe4,b5,Bb3,Na5,Qe2,Nxb3,cxb3,d5,Rg4,Rac8,h3,Rfe8,Qd3,Qb6,Rd1,Rc2,Nd4,Rxa2,Qf3,h6,Nf5,Ree2,Nxh6+,Kf8,Nf5,Rxf2,Qe3,Qc7,Qd3,Qc2,Qxd5,Rd2,Qa8+,Bd8', 'Qxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/mm2r7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mm3s3', 'Classical', 'King_Asap', 1635, 'JeffreyMichaels', 1738, 'e4,g6,Nf3,Bg7,d4,c5,Be3,cxd4,Bxd4,Nf6,Nc3,O-O,Bc4,Nc6,Bb3,d6,h3,Qa5,Qd2,Nxe4,Nxe4,Qxd2+,Nexd2,Nxd4,Nxd4,Bxd4,Nf3,Bxb2,Rb1,Bg7,O-O,e5,Ng5,h6,Nxf7,Rxf7,Bxf7+,Kxf7,Rfd1,Ke6,c4,b6,Re1,Bb7,Kh2,g5,f3,Rf8,Rb3,Rf4,Rc1,Rd4,a4,Ba6,Rb4,Rd2,a5,Bb7,axb6,axb6,Kh1,Rd4,Rxb6,Bc8,c5,Bf6,cxd6,Rxd6', 'Rxd6+,Kxd6,Rxc8', 'https://lichess.org/training/Mm3s3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MM47I', 'Classical', 'ElSimao', 1848, 'Grike555', 1831, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bd3,Nc6,Nf3,Be7,c3,O-O,O-O,Nxe4,Bxe4,h6,Bc2,f5,b4,Bf6,Bb3,Re8,Qd3,Ne5,Nxe5,Bxe5,Qxf5,Bd6,Qg4,Qf6,Re1,Kh8,Bc2,Rf8,Be3,e5,Qe4,Bf5,Qxf5,Qxf5,Bxf5,Rxf5,Re2,a5,g4,Rf7,bxa5,Rxa5,Rb1,exd4,Bxd4,b6,Rbb2,Bc5,Re5,Bxd4,Rxa5,Bxc3,Ra8+,Kh7,Rc2,Bd4,Ra4,Rf4,Kg2,Rxg4+,Kf3,Rh4,Kg3', 'Bxf2+,Kg2,Rxa4', 'https://lichess.org/training/MM47I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mM540', 'Rapid', 'Rendy_Tasik', 2574, 'miss_hudson', 2400, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Bg4,O-O,e6,h3,Bxf3,Qxf3,c6,d4,Nbd7,Bf4,Be7,Bd3,Qb6,Rfd1,Qxb2,Ne2,Qa3,Rdb1,Nb6,Bc7,Nfd5,Bxb6,axb6,Qg3,Bf6,c4,Nb4,Rb3,Qxb3,axb3,Rxa1+,Kh2,Kd7,Be4,Re1,Bf3,Ra8,Bg4,Raa1,Qc3,Be7,c5,Nd5,Qf3,f5,Bxf5,exf5,Qxf5+,Kd8,Ng3,bxc5,dxc5,Bxc5,Qg5+,Kc8,Qf5+,Kb8,Ne4,Bb6,Nd6,Bc7', 'Qc8+,Ka7,Qxb7#', 'https://lichess.org/training/mM540');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MM7aR', 'Blitz', 'TOFIG9090', 2021, 'Xlog', 2028, 'e4,c6,d4,d5,exd5,cxd5,Nf3,a6,Bd3,Bg4,c3,e6,h3,Bh5,g4,Bg6,Bxg6,hxg6,Bg5,Be7,Bxe7,Qxe7,Nbd2,Nf6,Ne5,Nc6,f4,Nxe5,fxe5,Ne4,Nxe4,dxe4,Qe2,Qh4+,Kd1,f5,exf6,gxf6,Qxe4,Kf7,Qf4,Rac8,Kc2,Qh6,Qxh6,Rxh6,Raf1,Rch8,Rf3,g5,Rhf1,Ke7,b4,b5,Kb3,Rxh3,Rxf6,Rg3,Rf7+,Kd6,Ra7,Rxg4,Rxa6+,Kd5,Rb6,Ke4,Re1+,Kd3,Rexe6,Rg3,Rxb5,Kd2,Rg6,Rxc3+,Kb2', 'Rc2+,Kb3,Rh3+,Ka4,Rxa2#', 'https://lichess.org/training/MM7aR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mm7df', 'Rapid', 'JordanRamos', 1693, 'lawyersadeghi', 1689, 'c4,d5,c5,e5,b4,a5,Bb2,Nc6,b5,Nd4,Bxd4,exd4,c6,bxc6,bxc6,Qd6,Nf3,Qxc6,Nxd4,Qf6,e3,c5,Bb5+,Bd7,Bxd7+,Kxd7,Nf3,Qxa1,Qa4+,Kd8,O-O,Qf6,Nc3,Ne7,Qb5,c4,Qb7,Rc8,Rb1,Qc6,Qb2,Ng6,Nd4,Qd7,Qb6+,Ke8,Qxa5,Be7,Qxd5,Qxd5,Nxd5,f6,Nf5,Bf8,h4,Ne5,Rb7,g6,Nd4,f5', 'Nf6+,Kd8,Ne6#', 'https://lichess.org/training/mm7df');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mM7Ec', 'Rapid', 'unalant', 1674, 'talen0', 1658, 'e4,e5,Nf3,Nf6,Nc3,Bc5,d4,exd4,Nxd4,O-O,Be3,b6,a3,Bb7,b4,Bxd4,Qxd4,Nc6,Qd3,Ne5,Qd4,Re8,f4,Neg4,O-O-O,Nxe3,Qxe3,Nxe4,Nxe4,Rxe4,Qd3,Rxf4,Be2,Qg5,Kb1,a5,Qxd7,axb4,a4,b3,cxb3,Qf5+,Qxf5,Rxf5,Bd3,Rf2,Rhg1,Bxg2', 'Rxg2,Rxg2,Be4,Rxh2,Bxa8', 'https://lichess.org/training/mM7Ec');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mm8W4', 'Blitz', 'Noirooo', 1908, 'Azizul', 1826, 'e4,c5,Nc3,Nc6,Bb5,e6,Bxc6,bxc6,f4,d5,d3,Nf6,e5,Nd7,Nf3,Be7,O-O,O-O,Qe1,Rb8,b3,Re8,Qg3,f6,exf6,Bxf6,Bd2,e5,fxe5,Nxe5,Nxe5,Bxe5,Qf3,Bf6,Rae1,Bd7,Na4,Qc7,Nxc5,Bd4+,Be3,Rxe3', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/Mm8W4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mM9MX', 'Rapid', 'krzysiuchess', 1957, 'joses1', 1952, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,Nf6,e5,dxe5,dxe5,Ng4,O-O,O-O,Re1,Re8,Qb3,Re7,e6,Bxe6,Bxe6,fxe6,Rxe6,Na5,Qb4,Rxe6,Qxg4,Re2,b4,Nc6', 'Qc4+,Kh8,Qxe2', 'https://lichess.org/training/mM9MX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MmAJi', 'Blitz', 'Embaby22', 1587, 'marzia-bo', 1662, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Bf5,Nc3,e6,h3,Nf6,g4,Bg6,d4,Bb4,Bd2,Nc6,a3,Ba5,g5,Ne4,Nxe4,Bxe4,Bxa5,Nxa5,f3,Nxb3,cxb3,Bf5,Ne2,Rc8,h4,Bc2,Qd2,Bxb3,Qb4,Bc4,b3,Bxe2,Kxe2,Rc2+,Kd3,Rc7,Rhc1,Qe7', 'Qxe7+,Rxe7,Rc8+,Kd7,Rxh8', 'https://lichess.org/training/MmAJi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mmBRz', 'Rapid', 'Neverko', 1938, 'Janisgov', 1922, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Ne4,e3,f5,Bd3,Be7,cxd5,exd5,Bd2,O-O,Rc1,c6,a3,Be6,Ne5,Nd7,Nxd7,Qxd7,f3,Nd6,O-O,Rae8,Qc2,g6,Na4,Nf7,Bb4,Bxb4,axb4,Qe7,Nc5,Bc8,Rce1,a6,e4,fxe4,fxe4,dxe4,Bxe4,Qg5,Rf3,Nd6,Rg3,Qh6,Rd1,Nxe4,Nxe4,Bf5,Qc4+,Be6,Qc5,Bd5,Nd6,Qf4,Nxe8', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/mmBRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mMh5o', 'Rapid', 'einbahnfrei', 1618, 'cCcarlsen64bit', 1628, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,O-O,Bd2,Re8,Bg5,d5,Qf3,dxe4,Bxe4,Bxc3+,bxc3,Rxe4+', 'Qxe4,Nxe4,Bxd8', 'https://lichess.org/training/mMh5o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MMHqZ', 'Rapid', 'Kanaan92', 1658, 'MilankumarZ', 1909, 'e4,c6,c4,g6,Nc3,Bg7,f4,e6,Nf3,Ne7,Be2,d5,cxd5,cxd5,exd5,Nxd5,O-O,Nxf4', 'Qa4+,Nc6,Qxf4', 'https://lichess.org/training/MMHqZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mMInd', 'Rapid', 'paolo1810', 1668, 'PetitPanda', 1913, 'e4,e6,f4,g5,fxg5,h6,gxh6', 'Qh4+,g3,Qxe4+', 'https://lichess.org/training/mMInd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mmj0J', 'Rapid', 'cusmet2478', 1985, 'ARTUR1982', 1903, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,cxb2,Bxb2,e6,Qb3,Nc6,Bc3,Nf6,e5,Ne4,Nf3,Nxc3,Nxc3,Bb4,O-O,Bxc3,Qxc3,O-O,Rad1,Qe7,Rd6,b6,Rfd1,Rd8,Bb3,Bb7,Bc2,Na5,Qd3,g6,Nd2,Bc6,Qe3,Nb7,Be4,Bxe4,Nxe4,Nxd6,Nf6+,Kg7,Rxd6,Rac8,h4,Rc6,Ng4,Rxd6,exd6,Qxd6', 'Qh6+,Kh8,Nf6,Qd1+,Kh2,Qh5,Nxh5', 'https://lichess.org/training/Mmj0J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mmJHq', 'Rapid', 'ali5in1979', 1859, 'isaiahb', 1772, 'c4,c5,Nc3,Nc6,g3,e5,Bg2,d6,Nf3,Nf6,d3,h6,e4,Be6,O-O,Be7,Nd5,O-O,Nd2,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/mmJHq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MMk3d', 'Rapid', 'HelmyIbrahim', 1711, 'RogerPodacteur', 1654, 'e4,d5,exd5,Qxd5,d3,c6,Nc3,Qa5,Bd2,Bf5,Nf3,e6,a3,Qc7,Be2,Nf6,Nd4,Bg6,O-O,Bd6,Nf3,Nbd7,Be3,Nc5,b4,Ncd7,Qd2,Ne5,g3,h5,h4,Neg4,b5,Rd8,Kg2,O-O,a4,e5,a5,a6,Bb6,Qb8,Bxd8,Rxd8,b6,e4,Nh2,Be5,Rab1,e3,fxe3,Ne4,Nxe4,Bxe4+,Bf3,Nxh2,Kxh2,Bxg3+,Kg2,Bf5,e4,Be6,Qg5,Bf4,Qxh5,Rd6,Bg4', 'Bxg4,Qxg4,Rg6,Qxg6,fxg6', 'https://lichess.org/training/MMk3d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mmkiu', 'Rapid', 'AsylbekYelt', 1720, 'NinadT', 1751, 'c4,e6,Nc3,b6,Nf3,Bb7,g3,g6,Bg2,Bg7,d4,Ne7,O-O,Nbc6,e4,O-O,Be3,d5,e5,Nf5,Bg5,Qd7,Qd2,Rfe8,Ne2,dxc4,Nh4,Nfxd4,Nxd4,Rab8,Nxc6,Bxc6,Bxc6,Qxc6,Bf6,Bf8,Qg5,c3,bxc3,Qxc3,Rac1,Qb2,Rxc7,Qxa2,Rxf7,Kxf7,Qf4,Kg8,Nxg6,hxg6,Qg5,Bg7', 'Qxg6,Re7,Bxe7', 'https://lichess.org/training/Mmkiu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mMlii', 'Rapid', 'Sfide_Mentali', 2111, 'k-night-moves', 1878, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,c3,Qa5,Nf3,Qb5,Qxb5,cxb5,O-O,Nc6,Nbd2,b4,c4,Nge7,Re1,dxc4,Nxc4,Nf5,d5,exd5,Nd6+,Nxd6,exd6+,Kd7,Ng5,Re8,Bf4,Nd8,Rad1,f6,Rxe8,Kxe8,Nf3,Kd7,Rxd5,Nf7,Rb5,Bxd6,Rxb7+,Ke6,Bxd6,Rd8,Nd4+,Kxd6,Rxf7,Kd5,Nf3', 'Ke6,Kf1,Kxf7', 'https://lichess.org/training/mMlii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mmLKn', 'Blitz', 'Sergei-Prokofiev', 2053, 'WaterlessDesert', 2031, 'd4,e6,Nf3,d5,c4,Nf6,g3,Bb4+,Bd2,Bxd2+,Nbxd2,c6,Bg2,O-O,O-O,Re8,Ne5,Nfd7,f4,Nxe5,fxe5,f5,exf6,gxf6,e4,Kh8,exd5,cxd5,cxd5,exd5,Qf3,f5,Rae1,Nc6,Rxe8+,Qxe8,Qxd5,Qe3+,Kh1,Qxd2,Qf7,Qg5,Bd5,Qg7', 'Qe8+,Qf8,Qxf8#', 'https://lichess.org/training/mmLKn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mMM79', 'Rapid', 'Robertomelo', 1800, 'RyanM', 1897, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Nbd7,Be3,Nc5,Qf3,Be7,O-O,O-O,Rad1,b5,Rfe1,Bb7,Bc1,b4,Na4,Bxe4,Rxe4,Nfxe4,Nc6,Qc7,Nxb4,Nxb3,cxb3,d5,Nd3,Bd6,g3,Rac8,Be3,f5,Rc1,Qb8,Nc3,Bb4,Bd4,Rc6,Ne5,Rc7,Nd3,Qb7,Be5,Rc6,Bd4,Nxc3,bxc3,Rfc8,Qe3,Bxc3,Bxc3,Rxc3,Qxe6+,Qf7', 'Qxc8+,Rxc8,Rxc8+,Qf8,Rxf8+', 'https://lichess.org/training/mMM79');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MmmSv', 'Rapid', 'Antonionero39', 1883, 'gamayuchebeli', 1810, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,a6,Be3,Bg7,Be2,Nf6,f3,O-O,Qd2,d5,exd5,Nxd5,Nxc6,bxc6,Nxd5,cxd5,Rb1,Re8,O-O,Qd6,b3,Bb7,Rfd1,Rac8,c4,e6,Bh6,Red8,Bxg7,Kxg7,cxd5,Qb6+,Qd4+,Qxd4+,Rxd4,Rc2,Bd3,Rxa2,Ra4,Rxa4,bxa4,Bxd5,Bxa6,Rd6,Bb5,Rd8,Rc1,h5,Rc7,g5,Kf2,h4,Bc6,Bxc6,Rxc6,Ra8,Rc4,f5,Rb4,Kf6,Ke3,Ke5,g3,Ra5,Rb5+,Rxb5,axb5,Kd6,Kd4,hxg3', 'hxg3,e5+,Kc4', 'https://lichess.org/training/MmmSv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mMmvy', 'Rapid', 'aam73', 1658, 'Catal77', 1655, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,c6,O-O,d5,exd5,cxd5,Bb3,d4,Nxe5,Be6,Bxe6,fxe6,Ne4,Nxe4,Qh5+,g6,Nxg6,Nf6,Qb5+,Nbd7,Nxh8,Bg7,Re1,e5,Rxe5+,Kf8,Qb4+,Kg8,d3,Kxh8,Re7,Bf8,Bd2,Bxe7,Qxd4,Qg8,Re1,Bc5,Qc3,Re8,h3,Rxe1+,Bxe1,Qg7,Qc4,b6,b4,Ne5,Qb5,Nf3+,Kf1,Nh4,Bc3,Qxg2+,Ke2,Qxf2+,Kd1,Nf3', 'Bxf6+,Kg8,Qe8+,Bf8,Qe6#', 'https://lichess.org/training/mMmvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MMMzh', 'Classical', 'aliakbar28', 1824, 'DWardak', 1732, 'd4,d5,Bf4,Nc6,e3,Nf6,h3,Bf5,c3,g6,f3,Bg7,a4,O-O,Na3,a6,b4,Re8,Bd3,Bxd3,Qxd3,e6,Ne2,Nh5,Bh2,e5,O-O,e4,fxe4,dxe4,Qc4,Ra7,Qxf7+,Kh8,Qxc7,Qxc7,Bxc7,Bh6,Bf4,Nxf4,Nxf4,Rf8,h4,Ne7,Nc4,Bxf4,Rxf4,Rxf4,exf4,Nd5,g3,b6,Rc1,e3,Kf1,Re7,Ke2,b5,axb5,axb5,Ne5,Ra7,Rc2,Ra3,Kd3', 'Nxb4+,Kxe3,Nxc2+', 'https://lichess.org/training/MMMzh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mmn25', 'Blitz', 'Andreyvic', 2044, 'FM realcyberbird', 2475, 'd4,Nf6,Nf3,d5,g3,c6,Bg2,Bg4,O-O,Bxf3,Bxf3,e6,Bg2,Be7,b3,O-O,Bb2,Nbd7,c4,a6,Nc3,Re8,Rc1,Qa5,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bb1,Ba3,Bxa3,Qxa3,Qd3,Rad8,g4,g6,h3,Rd7,Qc3,Qe7,Rfe1,Red8,Rcd1,h6,Rd2,Kg7,f4,Qd6,f5,exf5,gxf5,Qf4,fxg6,Rxd4,Rxd4,Rxd4,gxf7,Rd2,Kh1,Qf2,Rg1+,Kxf7,Bg6+,Kf8,Qb4+', 'c5,Qxd2,Qxd2', 'https://lichess.org/training/Mmn25');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mMnil', 'Rapid', 'hollebolle', 1939, 'javablanc', 1820, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,Nxe4,dxe5,Bc5,Qd5,Bxf2+,Kf1,O-O,Qxe4,d5,exd6,Bb6,dxc7,Qd1+,Qe1,Qxc2,Bb3,Qd3+,Qe2,Qf5,Nc3,Nd4,Qe4,Qc5,Be3,Bf5,Qxd4,Qxc7,Qf4,Bd3+,Kf2', 'Qxf4,Bxb6,axb6', 'https://lichess.org/training/mMnil');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mmPbi', 'Rapid', 'dangminhhanh', 1737, 'notarealbanana', 1741, 'e4,c5,Nf3,Nc6,Bc4,e6,e5,d5,exd6,Bxd6,c3,Nf6,d3,O-O,Bg5,Be7,Nbd2,a6,d4,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Be3,Qxb2,O-O,Rd8,Rb1,Qc3,Rc1,Qa5,Qc2,b5,Nb3,Qc7,Bxe6,Qxc2,Bxf7+,Kxf7,Rxc2,Bf5,Rcc1,Rd5,Nd4,Bg6,Nc6,Bd6,Rfd1,Rxd1+,Rxd1,Be7,h3,a5,g4,a4,f3,b4,g5,Ne8,Nxe7,Kxe7,Bc5+,Ke6,Bxb4,Rb8,a3,Kf5,Rd4,Nc7,h4,Ne6,Rd7,Kf4', 'Bd6+,Kxf3,Bxb8', 'https://lichess.org/training/mmPbi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mmPhI', 'Classical', 'blogwithric', 1852, 'AdrianChessNow', 1785, 'e4,c5,a3,b6,h3,Bb7,Nc3,e6,Bc4,Nc6,d3,Nf6,Nf3,d5,exd5,exd5,Ba2,d4,Ne2,Bd6,O-O,O-O,Bg5,Ne5,Nxe5,Bxe5,Ng3,Bd6,Nh5,Be7,Qe2,Qd6,Bf4,Qd7,Rae1,Nxh5,Qxh5,Bf6,Bg5,Qc6,Qg4,Qxg2+,Qxg2,Bxg2,Kxg2,Bxg5,Rg1,Rfe8,Kf3,Bf6,Rxe8+,Rxe8,Bd5,Re5,Bc4,Rf5+,Ke2,Bh4,Rg2,g6,a4,Kg7,b3,Kf6,Bb5,Ke5,Bc6,Kf4', 'Rg4+,Ke5,Rxh4', 'https://lichess.org/training/mmPhI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mmpjj', 'Rapid', 'Alibej01', 1965, 'marzio', 1894, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,g6,h3,Bg7,O-O,Nf6,Re1,Nd7,c3,O-O,d4,cxd4,cxd4,Na5,Bd3,Nc6,Be3,a6,Nc3,Nb4,Bb1,b5,a3,Nc6,d5,Na5,Bd3,Bb7,Kh1,Rc8,e5,dxe5,fxe5,Nxe5,Be4,Nac4,Bc1,Re8,Rb1,f5,Bd3,Nxf3,Qxf3,Ne5,Qe3,Nxd3,Qxd3,Bxc3,bxc3,Qxd5,Qxd5+,Bxd5,Bd2,Kf7,Re5,e6,Rbe1,Kf6,R5e3,Rc4,Bc1,Rec8,Bb2,Re4,c4+,Kf7,cxd5,exd5,Bc3', 'Rxc3,Rxc3,Rxe1+', 'https://lichess.org/training/Mmpjj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MmpWe', 'Rapid', 'konyekk33', 2096, 'carletto1111', 2022, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f3,h5,Qd2,Nbd7,O-O-O,b5,Nd5,Nxd5,exd5,Bf5,Bd3,Bxd3,Qxd3,Be7,Kb1,Bg5,Bxg5,Qxg5,g3,O-O,h4,Qg6,Qe2,Rfc8,g4,hxg4,fxg4,Rc4,g5,a5,Rc1,a4,Nd2,Rc5,Ne4,Rc4,Rhe1,Nc5,Nxc5,Rxc5,a3,Rxd5,Rg1,b4,h5,Qe6,axb4,Rd4,c3,Rf4,c4,a3,b3,a2+,Ka1,e4,Qb2,Rf5,h6,Qe5,Qxe5,Rxe5,hxg7,Kxg7,Rc2,Kg6,Rxa2,Rxa2+,Kxa2,Rxg5,Re1,Rg2+,Ka3,f5,b5,Kf6,b6,Ke5,Kb4,f4,Ra1,e3', 'b7,Rg8,Ra8', 'https://lichess.org/training/MmpWe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MMQPb', 'Rapid', 'reiner56', 1935, 'Dmitry_1999', 2003, 'e4,c5,c4,Nc6,Ne2,e6,d4,cxd4,Nxd4,Bc5,Be3,Qb6,Nc2,Bxe3,Nxe3,Qxb2,Nd2,b6,Be2,Nd4,O-O,Nxe2+,Qxe2,Bb7,Qd3,Qe5,f3,Nf6,Nb3,O-O,Rad1,Rad8,Rf2,d5,Rfd2,d4,Nxd4,Nxe4,fxe4,Bxe4,Qe2,Rd7,Nf3,Rxd2,Rxd2,Qf5,Qf2,h6,Nd4,Qc5,Qe2,Rd8,Ndc2', 'Rxd2,Qxd2,Bxc2', 'https://lichess.org/training/MMQPb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MmrjD', 'Rapid', 'neje', 1922, 'stob1', 2152, 'd4,Nf6,c4,c5,d5,b5,b3,g6,Bb2,Bg7,Nf3,O-O,e3,b4,Nbd2,d6,Bd3,a5,O-O,Bd7,a4,bxa3,Rxa3,Na6,Qa1,Nb4,Bb1,Qb6,Ne4,Ne8,Bxg7,Nxg7,Nc3,Bf5,Qb2,Bxb1,Qxb1,Rfb8,Qe4,Qc7,Rfa1,f5,Qb1,Rb7,Nb5,Qd7,Rxa5,Rab8,Ra7,Ne8,Rxb7,Qxb7,Ra7,Qc8,Rxe7,Nxd5,cxd5,Rxb5,Qb2,Qb8,h3,Rxb3', 'Rxe8+,Qxe8,Qxb3', 'https://lichess.org/training/MmrjD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mMslN', 'Rapid', 'Dawista77', 1967, 'bfirestone', 1887, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Bg5,Be7,Nf3,O-O,Bxf6,Bxf6,Bd3,dxc4,Bxc4,Nc6,O-O,Nxd4,Nxd4,Bxd4,Bd3,Qb6,Qh5,g6,Qh4,Bg7,Ne4,f5,Ng5,h6,Nf3,g5,Qh5,Bd7,Bc4,g4,Nh4,Be8,Ng6,Rf6,Ne7+,Kf8,Qh4,Kxe7,Rfe1,Kf8,Rad1,Rc8,Bb3,Rg6,Qg3,Bd4,Rc1,Rxc1,Rxc1,e5,Kh1,Bxb2,Rc2,f4,Qd3,Qa5,Rd2,Bd4,Rd1,Bxf2,Qf5+,Ke7,Qc2,Bd4,Qe4,Qb5,Rc1,Bc6,Qxg6,Bxg2+,Kxg2', 'Qe2+,Kh1,Qf3#', 'https://lichess.org/training/mMslN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mmu8x', 'Blitz', 'merinoff', 1930, 'vik08101975', 1962, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Be7,e3,O-O,Bd3,h6,Bh4,Nbd7,O-O,dxc4,Bxc4,Nb6,Bd3,c5,Rc1,cxd4,Nxd4,Bd7,e4,Rc8,e5,Nfd5,Bxe7,Qxe7,Nce2,Rfd8,Bb1,Nc4,Rxc4,Rxc4,Qd3,g6,Qxc4,Qg5,Qc1,Qxe5,Qxh6,Nf6,f4,Qe3+,Kh1,Ne4,Bxe4,Qxe4,Qg5,Rc8,Qe5,Qd3,h3,Qd2,Nb3,Qc2,Ned4,Qd3,Re1,Bc6,Re3', 'Qf1+,Kh2,Qxg2#', 'https://lichess.org/training/Mmu8x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MmUbV', 'Classical', 'AhmedYassen99', 1643, 'EarlyCC', 1698, 'e4,Nc6,Nc3,e5,Nf3,Bc5,g3,d6,Bg2,Be6,O-O,Qd7,Re1,O-O-O,d4,exd4,Nb5,Bg4,Qd2,Bb4,c3,dxc3,bxc3,Bc5,Qg5,g6,Qd5,Nf6,Qc4,a6,Nbd4,Bxf3,Nxf3,Rde8,e5,Bb6', 'exf6,Rxe1+,Nxe1', 'https://lichess.org/training/MmUbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MmUDg', 'Rapid', 'benchinho', 1640, 'D0NB4N3', 1627, 'd4,d5,c4,dxc4,Nc3,e6,e4,Bb4,Qa4+,Nc6,Bxc4,Qxd4,Ne2,Qxc4,O-O,Bd7,a3,Nd4,Qxb4,Nxe2+,Nxe2,Qxe2,Qxb7,Rd8,Bg5,f6,Be3,Ne7,Bc5,O-O', 'Bxe7,Rb8,Qxc7,Rfc8,Qxd7', 'https://lichess.org/training/MmUDg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MmVau', 'Classical', 'JustCaroKann', 1876, 'pietzscherhan', 1753, 'Nf3,Nf6,c4,c5,Nc3,Nc6,g3,e6,Bg2,d5,cxd5,exd5,d4,c4,Bg5,Be7,O-O,Ne4,Bxe7,Qxe7,Nxd5,Qd6,Nc3,Nxc3,bxc3,O-O,Qa4,Bd7,Qxc4,Rac8,Qb3,Be6,Qxb7,Bc4,Qb2,Rb8,Qc2,Bd5,e4,Bc4,Rfb1,Rbc8,Ng5,Ba6,e5,Qh6,f4,Nxd4,Qa4,Ne2+,Kf2,Qb6+,Ke1,Qg1+,Bf1,Bd3,e6,Bxb1,Rxb1,Nxc3,exf7+,Kh8,Qc2,Qe3+,Be2,Qxe2+,Qxe2,Nxe2,Kxe2,h6,Nf3,Rxf7,Ne5,Re7,Kf3,Rc3+,Kg4,Rc2', 'Ng6+,Kh7,Nxe7', 'https://lichess.org/training/MmVau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mmVCK', 'Blitz', 'Serhio1976', 2067, 'Dalgarno', 1745, 'e4,e5,Nc3,Nf6,d3,Bc5,Be2,O-O,Nf3,d6,O-O,Nc6,Na4,Nd4,Nxc5,dxc5,c3,Nxf3+,Bxf3,Be6,Bg5,Qd7,Bxf6,gxf6,Be2,Kh8,f4,Rg8,f5,Bxf5,Rxf5,Rg7,Bh5,Rag8,g3,c4,dxc4,Qc6,Qd5,Qb6+,Kg2,Qxb2+,Rf2,Qxa1,Bxf7,Rf8,Rxf6,Qxa2+,Kh3,Rg5,Qc5,Rc8,Be6,Rh5+,Kg4,Qe2+,Rf3,Qxh2', 'Rf8+,Kg7,Qe7+,Kh6,Rf6#', 'https://lichess.org/training/mmVCK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mMvDa', 'Rapid', 'you_know_nothing', 2040, 'anjurina', 2016, 'e4,c6,d4,d5,e5,Bf5,h4,h6,g4,Be4,f3,Bh7,e6,fxe6,Bd3,Bxd3,Qxd3,Qd6,Ne2,e5,dxe5,Qxe5,Bf4,Qf6,g5,hxg5,Bxg5,Qe6,Nd2,Nd7,O-O-O,O-O-O,Nd4,Qf7,Rhe1,Kb8,Ne6,Rc8,Bf4+,Ka8,Nc7+,Rxc7,Bxc7,e6,Nb3,Ngf6,Nd4', 'Nc5,Qe3,Qxc7', 'https://lichess.org/training/mMvDa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MMVwQ', 'Rapid', 'anantchess07', 2064, 'ernielunod', 2041, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,O-O,d6,d3,Be7,c3,dxc3,Nxc3,c6,f4,Nf6,e5,dxe5,fxe5,Nd5,Qf3,Be6,Nxd5,cxd5,Bb5+,Kf8,Bd2', 'Qb6+,d4,Qxb5', 'https://lichess.org/training/MMVwQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MMvZU', 'Rapid', 'mihbell', 1682, 'Ronx', 1677, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,g3,O-O,Bg2,Nbd7,O-O,e5,dxe5,dxe5,Bg5,h6,Bxf6,Bxf6,e4,Bg7,Rb1,Nc5,b4,Ne6,Nd5,c6,Ne3,Nd4,c5,Nxf3+,Bxf3,f5,exf5,gxf5,Qb3+,Kh8,b5,f4,Ng2,fxg3,hxg3,cxb5,Be4,a6,Nh4,Rf6,Ng6+,Rxg6,Bxg6,Qg5,Qf7,Bh3,Rfd1', 'Rf8,Qxb7,Qxg6', 'https://lichess.org/training/MMvZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mMxH2', 'Rapid', 'LovelyByte', 1813, 'Armozed', 1897, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Nxe4,Bxf7+,Ke7,Nxe4,Kxf7,d3,h6,O-O,d5,Nec3,Be7,Qf3+,Bf6,Nxd5', 'Nd4,Qh5+,g6,Qd1,Qxd5', 'https://lichess.org/training/mMxH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MMXmH', 'Rapid', 'serh7', 1724, 'unknown-man', 1786, 'd4,Nf6,Nc3,g6,Bf4,Bg7,Nf3,d6,e3,O-O,Bd3,c5,dxc5,dxc5,h3,Nbd7,O-O,b6,Qd2,Bb7,e4,e6,Bh6,Bxh6,Qxh6,Re8,Rae1,Nf8,e5,Nh5,Ne4,Bxe4,Bxe4,f5,Bxa8,Qxa8,g4,fxg4,Ng5,Nf4,h4', 'Qg2#', 'https://lichess.org/training/MMXmH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MmxRD', 'Rapid', 'MC713', 1876, 'Rajapirka', 1899, 'd4,c6,c4,d6,Nc3,e6,e4,h6,Nf3,Be7,Be2,Nd7,b4,e5,d5,c5,bxc5,Nxc5,Be3,Qa5,Qc2,Nxe4,Bd2,Nxc3,Bxc3,Qc7,O-O,Bf6,Nd2,Ne7,Ne4,Bf5,Bd3,Bxe4,Bxe4,O-O,Bb2,Bg5,Bc1,f5,Bxg5,hxg5,Bd3,e4,Be2,Nxd5,Rac1,Nf4,Rfd1,Qc5,Kf1,Rf6,g3,Nh3,Bh5,e3,Rd5,Qb6,c5,dxc5,Rxc5,Qe6,Re1,f4,Bf3,Qa6+,Be2,Qd6,Bc4+,Kh8,Bd3,fxg3,Rc8+,Rxc8', 'Qxc8+,Rf8,Qxh3+', 'https://lichess.org/training/MmxRD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MMxxW', 'Rapid', 'kbansal', 1742, 'Casavm', 1738, 'd4,d5,Bf4,Nf6,Nf3,e6,h3,Bb4+,c3,Bd6,Bxd6,Qxd6,Nbd2,Bd7,e3,Nc6,Bd3,O-O,O-O,a6,a4,Rfe8,Qc2,e5,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qh5,a5,Bxh3,gxh3,Qxf3,Kh2,Qh5,Rg1,Qe5+,Kh1,Qh5,Rg3,Ne4,Bxe4,dxe4,Rag1,g6,Qb3,Qxa5,Qxb7,Rab8,Qc6,Qa2,h4,Qxb2,h5,Qxf2,hxg6,hxg6', 'Rxg6+,fxg6,Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/MMxxW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mN0fa', 'Rapid', 'PAZRaje', 1691, 'gansGGG', 1951, 'e4,c6,d4,d5,e5,Bf5,c4,e6,c5,b6,b4,a5,bxa5,bxc5,dxc5,Bxc5,Nf3,Qxa5+,Bd2,Bb4,a3,Bxd2+,Qxd2,Ne7,Be2,Bxb1,Qxa5,Rxa5,Rxb1,O-O,Rb7,Ng6,O-O,Rxa3,Rfb1,Na6,Ra7,Ra2,Bxa6,c5,h3,c4,Rb6,Re2,Kf1,Re4,Rab7,Nxe5,Nxe5,Rxe5,Rb8,g6,Rc8,Rxc8,Bxc8,d4,Ba6,Rc5,Rb4,c3,Rb1,Ra5,Bd3,Ra2,Rc1,e5,Rc2,Rxc2,Bxc2,f5,f3,Kf7,Ke2,Ke6,Kd3,Kd5,Bb3+,Kc5,h4,Kb4,Bc2,Ka3,f4', 'e4+,Kxd4,Kb2', 'https://lichess.org/training/mN0fa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MN0UP', 'Rapid', 'terencetao', 1884, 'Fringorn', 2019, 'd4,Nf6,c4,e6,Nf3,d5,e3,c5,Nc3,cxd4,Nxd4,Bb4,a3,Bxc3+,bxc3,O-O,Be2,dxc4,Bxc4,a6,Bd2,b5,Ba2,Bb7,O-O,Ne4,f3,Nxd2,Qxd2,Qg5,Bxe6,fxe6,Nxe6,Qe7,Nxf8,Kxf8,e4,Nc6,Rad1,Rd8,Qf4+,Kg8,Rxd8+,Qxd8,h3,Bc8,Re1,Be6,e5,Ne7,Qe4,Nd5,Rd1,Qb6+,Kh2,Nxc3,Qa8+,Kf7,Rd8,Ne2', 'Rf8+,Kg6,Qe4+', 'https://lichess.org/training/MN0UP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mN2EI', 'Rapid', 'NathanSaino', 1758, 'Mcclellan2', 1690, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,f3,g6,Be3,Bg7,Qd2,Bd7,Bc4,O-O,O-O-O,e6,h4,h5,g4,a6,Bh6,b5,Bb3,Nxd4,Bxg7,Nxb3+,axb3,Kxg7,gxh5,Nxh5,Rdg1,Kh7,Qxd6,Bc8,Qe5,Bb7,Rg5,Qf6', 'Rxh5+,gxh5,Qxf6', 'https://lichess.org/training/mN2EI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mN2Le', 'Blitz', 'Carloshdez', 1828, 'cubeAD', 1797, 'e4,d5,exd5,Nf6,d4,Bg4,Be2,Bxe2,Nxe2,Qxd5,O-O,Nc6,Nbc3,Qh5,h3,O-O-O,Be3,e5,d5,Qh4,Ng3,Ne7,Qe2,h5,Rad1,Ng4,hxg4,hxg4,Rfe1', 'Qh2+,Kf1,Qh1+,Nxh1,Rxh1#', 'https://lichess.org/training/mN2Le');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MN2vR', 'Rapid', 'chamsou18', 1735, 'DAlejandroBH', 1780, 'e4,e5,f4,Nc6,Nf3,Bd6,Bc4,h6,fxe5,Nxe5,Nxe5,Bxe5,O-O,c6,Bxf7+,Ke7,d4,Qb6,c3,Nf6,Kh1,Bc7,e5,Nd5,Qh5,d6,Bxd5,cxd5,Qf7+,Kd8,e6,Re8,Re1,Qb5,e7+,Kd7,Na3,Qd3,c4,dxc4,Qe6+,Kc6,d5+,Kb6,Be3+,Ka6,Qf7,Bd7,Qf4,Rxe7,Rad1,Qf5', 'Qxc4+,b5,Qxc7', 'https://lichess.org/training/MN2vR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mn3gk', 'Classical', 'bankbank', 1793, 'kkfloja', 1662, 'e4,c5,Nf3,Nc6,a4,g6,Bc4,e6,d3,Be7,Bf4,d6,O-O,Nd4,c3,Nxf3+,Qxf3,e5,Be3,a6,Nd2,Qa5,Qd1,Bf6,Qf3,Qc7,Bd5,Bg7,a5,Nf6,Bc4,b5,axb6,Qxb6,Bg5,Qd8,Nb3,a5,Nxa5,h6,Bxf6,Bxf6,Nb3,Rxa1,Rxa1,O-O,Ra8,Bg7,Ba6,Qc7,Bxc8,Rxc8,Ra1,Qb6,Ra3,Qb7,c4,Ra8,Qd1,Rb8,Qa1,Qb4,h3,f5,f3,Bf6,Ra4,Qxb3,Ra8,Kg7,Qa7+,Qb7', 'Qxb8,Qxb8,Rxb8', 'https://lichess.org/training/Mn3gk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mn3Mc', 'Rapid', 'HaTiNo', 1931, 'oeil-de-lynx', 1922, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,Nc3,Qe6+,Kf2,Nf6,Bb5+,Kd8,Re1,Qb6+,d4,Bb4,Qe2,Bxc3', 'Qe7#', 'https://lichess.org/training/Mn3Mc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mn5YU', 'Rapid', 'babljak01', 2100, 'Johntea_Chiksmagnet', 2258, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,c3,d6,h3,Bb7,d4,Re8,Bg5,h6,Bh4,Na5,Bc2,exd4,cxd4,Nh7,Bxe7,Rxe7,e5,Nc4,Qd3,Nf8,b3,Nb6,Nbd2,dxe5,Nxe5,Qd5,Ndf3,f6,Ng4,Rae8,Rxe7,Rxe7,Ne3,Qh5,Nf5,Re8,Ng3,Qd5,Rd1,a5,Qc3,Nfd7,Qxc7', 'Rc8,Qf4,Rxc2', 'https://lichess.org/training/Mn5YU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mn8Bs', 'Rapid', 'Feritbingol49', 1644, 'GeneralHospital', 1655, 'e4,c5,d4,cxd4,Nf3,Nc6,Bb5,d6,Qxd4,a6,Bxc6+,bxc6,O-O,e5,Qc4,Qc7,Ng5,Nh6,Nc3,Be7,Nd5,Qb7,Nxe7,Kxe7,Nf3,Be6,Qe2,f6,Bxh6,gxh6,b3,Rhg8,c4,Rg7,Nh4,Rag8,f4,Bg4,Qd2,Qa7+,Kh1,h5,Rad1,Bxd1,Rxd1,Rd8,Nf5+,Ke8,Nxd6+,Kf8,fxe5,fxe5,Rf1+,Kg8,Nf5,Rxd2', 'Nh6+,Kh8,Rf8+,Rg8,Rxg8#', 'https://lichess.org/training/mn8Bs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mNa3n', 'Blitz', 'kalpesh2385', 1865, 'corgi_0', 1849, 'd4,d5,Nf3,c6,g3,Nf6,Bg2,Bf5,Nbd2,e6,c4,Bd6,c5,Bc7,b4,a6,O-O,Nbd7,Nh4,Bg6,Nxg6,hxg6,Nf3,Nh5,Ng5,Qe7,a4,Ndf6,e4,Nxe4,Bxe4,dxe4,Nxe4,f5,Bg5,Nf6,Bxf6,gxf6,Nd6+,Bxd6,cxd6,Qxd6,Qd2,Kf7,Rfe1,Rh3,f4,Rah8,Re2,Qd5,Rc1,Rxg3+,hxg3,Qh1+,Kf2', 'Rh2+,Ke3,Qe4#', 'https://lichess.org/training/mNa3n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MNaf0', 'Rapid', 'asel1951', 2107, 'exexeexexe', 2061, 'e4,c5,Nf3,d5,e5,d4,d3,Bg4,Nbd2,Be6,g3,Nh6,Bg2,Qc7,O-O,Nc6,Re1,O-O-O,b3,Kb8,Nc4,Bd5,a4,e6,Bxh6,gxh6,Qe2,Nb4,Rac1,Na2,Ra1,Nc3,Qd2,Bg7,Nh4,Bxc4,bxc4,Bxe5,Qxh6,Bd6,Nf3,Rdg8,Nd2,Rg6,Qh5,Rf6,Ne4,Rf5,Qg4,h5,Qg7', 'Be5,Qxh8+,Bxh8', 'https://lichess.org/training/MNaf0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MnBsp', 'Blitz', 'FM robertosalgado', 2229, 'Arcthc', 1894, 'e4,c5,d4,d6,Bc4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Ne7,Qe2,Nbc6,O-O,g6,Rd1,Bg7,Bf4,e5,Be3,O-O,h3,Be6,Rd2,Bxc4,Qxc4,Na5,Qb4,Nec6,Qxd6,Qxd6,Rxd6,Nc4,Rd7,Nxe3,fxe3,Rad8,Rxb7,Na5,Rxa7,Nc4,b3,Nxe3,Nd5,Nxd5,exd5,Rxd5,Re1,Rfd8,Re2,Rd1+,Kf2,R1d5,Ng5,f6,Rxg7+,Kxg7,Ne6+,Kf7,Nxd8+,Rxd8,a4,Rd4,a5,Rb4,Rb2,Ke7,Ke2,Kd7,Kd2,Kc6,Kc3,Kb5,a6,Rd4,a7,Rd8,Ra2,Ra8,b4,Kb6,Rf2,Rxa7,Rxf6+,Kb5,Kb3,Rd7,Rf3,Rd4,Re3,Rxb4+,Kc3,Ra4,Rxe5+,Kc6,Re7,Ra3+,Kd4,Rg3,Re2,h5,Ke5,Kd7,Kf4,Ra3,Kg5,Rg3+,Kh6,h4,Rd2+,Ke6,Rf2,g5,Kh5,Ke5,Kg6,Ke4,Kf6,Ke3,Ra2,Ke4,Kg6,Kf4,Kh5,Ke4,Ra4+,Kf5,Rg4', 'Rxg4,hxg4+,Kf4,Kg6,Kxg4', 'https://lichess.org/training/MnBsp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mnCFs', 'Rapid', 'Elias19956', 1929, 'zxcvbnm45', 1885, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,O-O,Nf6,d3,h6,h3,O-O,a3,a6,b4,Bb6,Rb1,Bd7,a4,Ba7,b5,axb5,axb5,Nd4,Nxd4,Bxd4,Nd5,c6,bxc6,bxc6,Nxf6+,Qxf6,Be3,Qg6,Bxd4,Bxh3,Qf3,Bg4,Qg3,exd4,f3,Be6', 'Qxg6,fxg6,Bxe6+', 'https://lichess.org/training/mnCFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MNDqV', 'Classical', 'alekusuk', 1867, 'FeriKiEvvel', 1780, 'b3,e5,Bb2,d6,g3,Nc6,Bg2,Bd7,c4,Be7,Nc3,Nf6,Nd5,O-O,e3,a5,a3,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/MNDqV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MnEL2', 'Blitz', 'Lu4ik', 1763, 'Indigojust', 1597, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,cxb2,Bxb2,Nc6,Nf3,Qb6,Bb3,Nh6,O-O,e6,Nbd2,Bc5,Rb1,Ng4,Bxg7,Rg8,Bxe6,Nxf2,Rxf2,Bxf2+,Kf1,fxe6,Rxb6,Rxg7,Rb5,Bb6,Ne5,Nxe5,Rxe5,Bc7,Qh5+,Kf8,Rc5,d6,Rg5,Rf7+,Ke2,b6,Nc4,Ba6,Kd3,d5,exd5,exd5,Rxd5,Rc8,Qh6+,Kg8,Rg5+,Kh8,Rg4,Rd8+,Kc2,Rf2+,Kb3,Rd3+,Kb4,Bd6+,Nxd6,Rb2+,Ka4,b5+,Nxb5', 'Bxb5+,Ka5,Ra3+,Ra4,Rxa4#', 'https://lichess.org/training/MnEL2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MNeL3', 'Rapid', 'Shogali', 2190, 'Yaso00', 1884, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,c4,Nbd7,Nc3,e5,e4,c6,h3,Re8,Re1,exd4,Nxd4,Nc5,Qc2,a5,Be3,Bd7,Nb3,Ne6,a4,Qc7,Rad1,Rad8,f4,b6,Qf2,Nc5,Nxc5,bxc5,Kh1,h5,e5,dxe5,Bxc5,exf4,Bb6,fxg3,Qg1,Rxe1,Rxe1,Qc8,Bxd8,Qxd8,Qa7,Qc8,Qxa5,Bxh3,Qe5,Be6,Qxg3,Qb7,Ne4,Nxe4,Bxe4,Qxb2,Bxg6,fxg6,Rxe6,Qc1+,Re1,Qxc4,Qxg6', 'Qh4+,Kg2,Qxe1', 'https://lichess.org/training/MNeL3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mNguO', 'Rapid', 'Stokespeare', 1603, 'Tetraktis', 1705, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,c6,Bg5,Be7,Qd2,h6,Bh4,Nbd7,Bg3,Ne5,O-O-O,Nc4,Bxc4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,Rhe1,O-O,Kb1,Bb4,Re3,Ne4,Rxe4,dxe4,a3,Ba5,Qe3,Bxc3,Qxc3,Rac8,Qe1,Qa4,Qxe4,Rfd8,Bf4,Re8,Qd3,Red8,Be3,Rc6,Qf5,g6,Qd3,Kh7,Qd2,Rcd6,c3,g5,h4,gxh4,Bxh6,Rxh6,Qd3+,Rg6,f4,Kg7', 'Nf5+,Kh7,Qxd8', 'https://lichess.org/training/mNguO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mNH4i', 'Rapid', 'Meriadon', 1729, 'MaroFarouq', 1738, 'e4,e5,Nf3,d6,Nc3,Bg4,h3,Bxf3,Qxf3,Nf6,d3,Nc6,Bg5,Be7,Bxf6,Bxf6,Nd5,Bg5,h4,Bh6,g4,Nd4,Qd1,c6,g5,Bxg5,hxg5,cxd5,c3,Nb5,exd5,Nc7,c4,Qxg5,Qa4+,Ke7,Qa5,b6,Qa3,Qg4,Bh3,Qf3,Kd2,Qxf2+,Kc3,b5,Qa5,Nxd5+,cxd5,Rac8+,Bxc8,Rxc8+,Kb3,Qc2+,Ka3,Qc5+,Qb4,Qxd5,Rac1,Qxd3+,Qb3', 'b4+,Ka4,Qa6+,Kxb4,Rb8+', 'https://lichess.org/training/mNH4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mnJx9', 'Rapid', 'net_knight', 1707, 'hegeweko', 1778, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nf3,Nc6,Bb5,Bg4,Nc3,a6,Bxc6+,bxc6,O-O,f6,Qd3,Qc7,Be3,g5,a3,Bxf3,gxf3,Ne7,Kh1,Ng6,Rg1,Be7,b4,Rd8,bxc5,dxc5,Qxa6,Bd6,f4,Nxf4,Bxf4,Bxf4,Rg2,O-O,Qc4+,Rf7,Qxc5,h5,h4,g4,Qxh5,Rg7,Rxg4,Be5,Na4,Bxa1,Nc5,Rxg4,Qxg4+,Qg7', 'Qxg7+,Kxg7,Ne6+,Kf7,Nxd8+', 'https://lichess.org/training/mnJx9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MnKeu', 'Rapid', 'uniak', 1631, 'MilosFil', 1718, 'd4,d5,Nf3,Nc6,Nc3,Bg4,Ne5,Nxe5,dxe5,e6,Qd4,Bf5,e4,dxe4,Qa4+,c6,Nxe4,b5,Bxb5,cxb5,Qxb5+,Qd7,Qxd7+,Kxd7,f3,Rc8,c3,Bxe4,fxe4,Rc4,O-O,Rxe4,Rxf7+,Ke8,Rxa7', 'Bc5+,Kf1,Bxa7', 'https://lichess.org/training/MnKeu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mnkJK', 'Classical', 'Aydar_bashkort', 1786, 'th0rs', 1769, 'd4,Nf6,Bg5,d5,e3,Ne4,Bh4,f6,Bd3,g5,Qh5+,Kd7,Be2,gxh4,Bg4+,Kd6,Nc3,Nxc3,bxc3,Bxg4,Qxg4,e6,Qf4+,e5,dxe5+,fxe5,Qf5,Be7,Nf3,Bf6,Rd1,c6,c4,Nd7,cxd5,cxd5,e4,Qa5+,Rd2,Rac8,O-O,d4', 'Rxd4+,exd4,Qxa5', 'https://lichess.org/training/mnkJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MnKN8', 'Blitz', 'Belgas', 1810, 'Over1diot', 1693, 'e4,e5,Nf3,Nf6,Bc4,c5,Nc3,d6,Ng5,Be6,Nxe6,fxe6,Bxe6,d5,exd5,Bd6,O-O,Qe7,Nb5,Nbd7,Nxd6+,Qxd6,c4,O-O-O,a3,b5,b3,bxc4,bxc4,Rhf8,d3,e4,dxe4,Nxe4,Qa4,Nf6,Qxa7,Ng4,g3,h5,h3,Rxf2,Rxf2', 'Qxg3+,Kf1,Qxf2#', 'https://lichess.org/training/MnKN8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mNKOX', 'Blitz', 'RobertLasker', 2427, 'GM S_Guliev', 2486, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qd2,Be7,Bc4,Qc7,Bb3,b5,O-O-O,b4,Ba4+,Bd7,Bxd7+,Nbxd7,Nd5,exd5,Nf5,Nxe4,Nxg7+,Kf8,Bxe7+,Kxg7,Qxd5,Ndf6', 'Bxf6+,Nxf6,Qg5+', 'https://lichess.org/training/mNKOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MNlAz', 'Rapid', 'madtrapper', 1664, 'mosta95', 1612, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Nc3,Bb4,Bxf7+,Kxf7,Ng5+,Ke8,O-O,d6,a3,Bxc3,dxc3,h6,Nf3,Bg4,h3,h5,hxg4,hxg4,Nh2,Nxe4,Qxg4,d5,Qxg7', 'Qh4,Qxh8+,Qxh8', 'https://lichess.org/training/MNlAz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mnlC7', 'Rapid', 'ashfem1', 1731, 'belk1', 1877, 'd4,d5,c4,e6,cxd5,exd5,Nf3,c5,e3,Nf6,Bb5+,Bd7,Qa4,Be7,Ne5,O-O,Nxd7,Nbxd7,Bxd7,Nxd7,O-O,a6,Nc3,b5,Qd1,Nb6,dxc5,Bxc5,Qg4,Re8,Ne2,Re4,Qg3,Re6,Nd4,Rg6,Qf3,Bxd4,exd4,Qd7,Bd2,Re8,b3,Nc8,Rfe1,Ree6,Bb4,h6,Rxe6,Rxe6,h3,Rf6,Qg3,Ne7,Bxe7,Qxe7,Qc3,Qe2,Qg3,Qd2,Qe3,Qc2,a4,bxa4,Rxa4,Re6,Qf3,Rf6,Qe3,Re6,Qg3,Re4,Rxa6,Rxd4,Rxh6', 'Qc1+,Kh2,Qxh6', 'https://lichess.org/training/mnlC7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mNLmQ', 'Blitz', 'Marioleo', 1818, 'bakhtiyar1985', 1842, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bg4,O-O,Be7,Re1,O-O,Nc3,c6,h3,Bxf3,Qxf3,Nbd7,Bg5,Bd6,Re2,Rc8,Rae1,Bb8,Bf5,Qc7,Bxd7', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/mNLmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mnm0q', 'Rapid', 'raifcoskun1985', 1643, 'astralGuide', 1641, 'e4,c5,Nf3,Nc6,b3,e6,Bb2,Nf6,Nc3,d6,Be2,Be7,O-O,O-O,h3,d5,exd5,exd5,d4,Bf5,dxc5,Bxc5,Bd3,Bxd3,Qxd3,a6,Na4,Ba7,Ng5,h6', 'Bxf6,hxg5,Bxd8', 'https://lichess.org/training/Mnm0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MnM4Z', 'Rapid', 'juni2020', 1910, 'Sad_song', 1654, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,d4,exd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,Nc3,Be7,Bg5,O-O,Rad1,c5,Qd3,Rad8,Rfe1,Ne8,Bxe7,Qxe7,Nd5,Qd7,Qg3,Qe6,e5,dxe5,Rxe5,Qd6,Nf6+', 'Qxf6,Rxd8,Qxd8', 'https://lichess.org/training/MnM4Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mNmgG', 'Rapid', 'Hescardo', 1745, 'PepeFergo', 1752, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Bg4,O-O,c5,dxc5,Bxc5,h3,Be6,Bg5,Nbd7,Nc3,a6,a3,O-O,b4,Bd6,Re1,Qc7,Qd2,Rac8,Ne2,Nh5,Ned4,Nf4,Bxf4,Bxf4,Qd1,Rce8,Nxe6,fxe6,Re2,e5,Qe1,e4,Nd4,exd3', 'Rxe8,Be5,Rxf8+', 'https://lichess.org/training/mNmgG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MnMjA', 'Rapid', 'A681337', 1759, 'Yinbao', 1692, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,O-O,Bc5,d3,Ne7,Qf3,O-O,Bg5,c6,Nd2,d5,exd5,cxd5,Bxd5', 'Qxd5,Bxe7,Qxf3,Nxf3,Bxe7', 'https://lichess.org/training/MnMjA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mNMze', 'Classical', 'DeeWelle', 1982, 'aanand123', 1924, 'c4,e5,d3,Nf6,Nc3,d5,cxd5,Nxd5,Nf3,Nc6,g3,Nxc3,bxc3,e4,dxe4,Qxd1+,Kxd1,Bc5,Be3,Bxe3,fxe3,O-O,Nd4,Ne5,Kc2,c5,Nf5,Be6,Ne7+,Kh8,Nd5,Nc4,Kd3,b5,h4,Rfd8,Bg2,f5,a4,fxe4+,Bxe4,Bxd5,Bxd5,Rxd5+,Ke4,Rd2,axb5,Re8+,Kf4,Rxe2,Rxa7,R2xe3,Rf7,R8e4+,Kg5,Rxg3+,Kf5,Re5+,Kf4,Kg8,Kxg3,Kxf7,Rb1,Nb6,Kf4,Ke6,Ra1,Kd5,c4+,Ke6,Ra6,Rf5+,Kg3,Ke5,Rxb6,Kd4,Rb7,Kxc4,b6,Kb5,Rxg7,Kxb6,Rxh7,c4,Kg4,Rd5,Rf7,c3,Rf1,Rd4+,Kg5,Kc5,h5,c2,Rc1,Rc4,h6,Kb4,h7,Rc5+,Kf6,Rc6+,Ke5,Rc8', 'Rxc2,Rxc2,h8=Q', 'https://lichess.org/training/mNMze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MNnVA', 'Rapid', 'jincario', 1653, 'AvianY', 1645, 'e4,d5,e5,d4,Bc4,Nc6,Nf3,Be6,Bxe6,fxe6,O-O,Qd5,Re1,O-O-O,d3,g6,Bg5,Bg7,Bf4,Nh6,h3,Rhf8,Bxh6,Bxh6,Re4,Rf4,Na3,b5,Qe2,Rdf8,Rd1,g5,c3,g4,hxg4,Rxe4,Qxe4,a6,Nc2,dxc3,Qxd5,exd5,bxc3,e6,Ncd4,Nxd4,Nxd4,Kd7,Ra1,Bd2,c4', 'Bc3,Nxe6,Kxe6', 'https://lichess.org/training/MNnVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mnoSM', 'Rapid', 'sherlook391', 1774, 'Kordzangeneh', 1793, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,d5,e5,Nfd7,Bh6,Nxe5,O-O-O,Qb6,Nxd5,Bxh6,Qxh6,Qd6,Nf4,Nbc6,Nf5,Qf6,Ng3,Nb4,Kb1,Bf5,Nxf5,Qxf5,Nd3,Nexd3,Bxd3,Nxd3,Rxd3,Rac8,Re1,Qc5,Rd2,Rfd8,Qe3', 'Qxe3,Rxe3,Rxd2', 'https://lichess.org/training/mnoSM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mNqW2', 'Rapid', 'sb8', 1802, 'bacholt', 1789, 'c4,e5,Nc3,a6,g3,d6,Bg2,h6,d3,Nf6,Nf3,Nc6,O-O,Bd7,h3,Qc8,Kh2,g5,Ng1,Be7,e4,Ng8,f4,exf4,gxf4,gxf4,Bxf4,Ne5,Nd5,Bd8,Qh5,Be6,Bxe5,dxe5,Ne3,Nf6,Qxe5,Be7,Rxf6', 'Bd6,Qxd6,cxd6', 'https://lichess.org/training/mNqW2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mnrNy', 'Rapid', 'aslawy87', 1843, 'adel54321', 1874, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Nf6,e5,Qe7,Nc3,d6,f4,O-O,O-O-O,dxe5,fxe5,Ng4,h3,Nxe5,Re1,Qg5+,Kb1,Nc6,Qa4,Bf5,g4,Bg6,Bg2,Qd2,Re2,Qd6,Rd1,Qg3,Nd5,Rad8,Qb3,Qxb3,axb3,Nb4,Red2,Kh8', 'Nxb4,Rxd2,Rxd2', 'https://lichess.org/training/mnrNy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mnskc', 'Rapid', 'loic74290', 1744, 'Chessilisk', 1770, 'd4,d5,c4,e6,Nc3,Be7,Nf3,Nf6,Bg5,h6,Bxf6,Bxf6,e3,b6,Be2,dxc4,Bxc4,Bb7,O-O,Nd7,Rc1,Qe7,Bb3,a6,Qd3,Bxf3,gxf3,Rd8,Ne4,Ne5,Nxf6+,Qxf6,Qxa6,Qg5+,Kh1,Nxf3,Bd1,Nxh2,Kxh2,Qh4+,Kg2,Rd5,Ba4+,Ke7,Rxc7+,Kf6,Rg1,Rf5,Qe2', 'Rg5+,Kf1,Qh3+,Ke1,Rxg1+', 'https://lichess.org/training/mnskc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mNTTP', 'Rapid', 'paulroad', 1898, 'shuco', 1928, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Nc3,c6,Qxe7+,Bxe7,d4,O-O,Bd3,Be6,O-O,h6,Re1,Re8,Ne4,Nbd7,c3,d5,Nxf6+,Nxf6,h3,Bd6,Ne5,Nd7,Bf4,f6,Ng6,Bxf4,Nxf4,Bf7,Kf1,g5,Ne2,Re7,Ng3,Rae8,Nf5,Rxe1+,Rxe1,Rxe1+,Kxe1,h5,Nd6,b6,Bf5,Nf8,Bd3,Ne6,Ba6,Nd8,Nc8,Ne6,Nxa7,Nf4,Kf1,Be8,g3,Nxh3,Kg2,g4,Bd3,Bd7,Bg6,Ng5,Bxh5,Ne4,f3,gxf3+,Bxf3,f5,c4,Kf7,cxd5,cxd5,b3,Ke7,a4,Kd8,Nb5,Bxb5,axb5,Ke7,Bxe4,dxe4,Kf2,Kd6,Ke3', 'Kd5,b4,Kc4,g4,fxg4', 'https://lichess.org/training/mNTTP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MnVkL', 'Rapid', 'Riafos', 1778, 'Szyb', 1789, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,c3,e5,Nxc6,bxc6,Bc4,Nf6,Qf3,Bc5,O-O,O-O,b4,Be7,a4,a5,b5,cxb5,axb5,Qc5,Qe2,Bb7', 'Ba3,Qc7,Bxe7', 'https://lichess.org/training/MnVkL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MnvmC', 'Rapid', 'liverpoo7', 1824, 'Ekamali2011', 1810, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,Bb4,b3,O-O,a3,Bxc3+,Qxc3,Nxe4,Qf3,Re8,O-O,d5,Bd3,Nf6,Bb2,Bg4', 'Bxf6,Bxf3,Bxd8', 'https://lichess.org/training/MnvmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MnVzc', 'Rapid', 'Valkekalabombe', 1815, 'shivrajpatil899', 1741, 'e4,c5,Nf3,d6,c3,Nf6,Qe2,e6,d4,cxd4,cxd4,Be7,Nc3,O-O,Qd1,d5,e5,Nfd7,Bd3,f6,exf6,Nxf6,O-O,Nc6,Re1,Bd6,a3,Ng4,h3,Nxf2,Kxf2,Nxd4,Bxh7+,Kxh7,Qxd4,b6,b4,e5,Qxd5,Qh4+,Kg1,Rxf3,Qxf3', 'Qxe1+,Qf1,Qxc3', 'https://lichess.org/training/MnVzc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MNW75', 'Classical', 'Shidoshi', 1808, 'fidelchaveta', 1668, 'd3,e5,g3,f6,c4,Bc5,Bg2,c6,Nc3,Bb4,Bd2,Ne7,e4,d6,Nf3,Bg4,Qc2,h6,h3,Bxf3,Bxf3,Nd7,Be3,Qc7,Qe2,Qa5,Bd2,O-O-O,Bg4,g5,Qe3,c5,a3,Bxc3,Bxc3,Qc7,Be6,b6,b4,Kb8,Bxd7,Qxd7,bxc5,dxc5,Rd1,Qa4,Qc1,Nc6,O-O,Nd4,Qb2,Nf3+,Kg2,Nh4+,gxh4,gxh4,Bd2,Rhg8+,Kf3', 'Rxd3+,Ke2,Qxc4', 'https://lichess.org/training/MNW75');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mNWPM', 'Blitz', 'MatyDolecek', 1901, 'dani_31', 1886, 'd4,d5,c4,e6,Nc3,Be7,Bf4,Nf6,e3,b6,Nf3,Bb7,Bd3,O-O,O-O,Nbd7,Qe2,c5,dxc5,Nxc5,cxd5,Nxd3,Qxd3,Nxd5,Nxd5,Qxd5,Qxd5,Bxd5,Ne5,Rfd8,Rac1,f6,Nc6,Bxc6,Rxc6,e5,Bg3,Bc5,Rc1,Rd2,Rb1,Rad8,h3,Rd1+,Rxd1,Rxd1+,Kh2,Rd2,Rc7,a5,f4,exf4,Bxf4,Rxb2,a4,Ra2,Rc8+,Kf7,Rc7+,Kg6,h4,Rxa4,h5+,Kxh5,Rxg7,h6', 'g4+,Kh4,Bg3#', 'https://lichess.org/training/mNWPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mnXpp', 'Rapid', 'mina_ebrahim', 1826, 'Kontrolor', 1874, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,d6,Nf3,b6,e3,Bb7,a3,Bxc3,Bxc3,Ne4,Bd3,Nxc3,bxc3,Nd7,O-O,O-O,Rc1,Nf6,Re1,c5,Bb1,cxd4,cxd4,Rc8,Qd3,g6,Qe2,Qd7,e4,Qa4,Rc3,Ba6,Rec1,Rc7,e5,Nd5,R3c2,dxe5,Nxe5,Qxa3,Qd2,Nf6', 'Ra2,Qd6,Rxa6', 'https://lichess.org/training/mnXpp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mNY5J', 'Rapid', 'kampretos', 1898, 'can111', 1949, 'e4,c5,c4,g6,Nc3,Bg7,d3,Nc6,f4,d6,Nf3,e6,a3,Nge7,Be2,O-O,O-O,f5,Be3,a6,e5,dxe5,fxe5,b6,Bf4,Qc7,Qe1,Bb7,Ng5,Qd7,Bf3,h6,Nh3,g5,Bxg5,hxg5,Nxg5,Nxe5,Bxb7,Qxb7,Nxe6,Nxd3', 'Qg3,Rf7,Qxd3', 'https://lichess.org/training/mNY5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MnyGX', 'Rapid', 'sohrab-sad', 1703, 'Drovosek59', 1787, 'e4,c5,Nf3,Nc6,Bb5,d6,c3,Bd7,O-O,g6,Re1,Bg7,Bxc6,Bxc6,d4,cxd4,cxd4,Nh6,Nc3,O-O,Bg5,f6,Qb3+,Kh8,Bd2,Rb8,h3,Nf7,Rac1,a6,Qc2,Rc8,Be3,Qd7,Qd2,b5,a3,Bb7,Bh6,Rc4,Bxg7+,Kxg7,b3,Rc7,Na2,Rfc8,Rxc7,Rxc7,Nb4,Qc8,d5,Ne5,Nxe5,fxe5,f4,exf4,Qxf4,a5,Nc6,Bxc6,dxc6,Rxc6,e5,d5,e6,Qf8,Qd4+,Qf6,Qxd5,Rd6', 'Qxd6,exd6,e7,Qxe7,Rxe7+', 'https://lichess.org/training/MnyGX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mnYvg', 'Rapid', 'thomassowell123', 2260, 'FM GustavoCadena', 2168, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,d6,Be3,Nf6,f4,Be7,Qf3,O-O,O-O-O,Qa5,g4,Nfd7,Kb1,Nc6,h4,Nxd4,Bxd4,Re8,g5,e5,Be3,exf4,Bxf4,Ne5,Bxe5,dxe5,Bc4,Be6,Bxe6,fxe6,Qg3,Bb4,Rd7,Rac8,Nd1,Bf8,Qf3,Kh8,Nf2,Qa4,Rd2,Red8,Rhd1,Rd4,b3,Qc6,c4,Bc5,Rxd4,Bxd4,Ng4,b5,Nh6,bxc4,Rf1,Qe8', 'Nf7+,Kg8,Nd6,Qd7,Nxc8', 'https://lichess.org/training/mnYvg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mO1rk', 'Rapid', 'debiasia', 1795, 'Aristeo93', 1831, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,d3,e6,O-O,Bd6,Re1,Ngf6,Bg5,h6,Bh4,O-O,Nbd2,Qc7,c3,Rfe8,Bg3,e5,c4,dxc4,Nxc4,Nh5,Nxd6,Qxd6,Bxe5', 'Nxe5,Nxe5,Rxe5,Rxe5,Qxe5', 'https://lichess.org/training/mO1rk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MO4Bu', 'Classical', 'ViciousCircle', 1954, 'smailmoh', 2087, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Nxe4,d4,d5,dxe5,Be6,Nbd2,Nc5,c3,Nxb3,Nxb3,Be7,h3,O-O,Be3,b4,Nfd4,Nxe5,Nxe6,fxe6,Nc5,Qc8,cxb4,Nc4,Bd4,e5,b3,exd4,bxc4,dxc4,Qxd4,Bf6,Qd5+,Kh8,Rac1,c3,Ne4,Rd8,Qc6,Be5,Nxc3,Rd6,Qf3,Rb8,a3,Rf6,Qd5,Qf5,Na4', 'Bh2+,Kxh2,Qxd5', 'https://lichess.org/training/MO4Bu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MO4w3', 'Classical', 'glt-08', 1811, 'mehmoodmatrix', 1803, 'e4,c5,Bc4,e6,a3,d5,exd5,exd5,Qe2+,Be7,Bb5+,Nc6,Nf3,Nf6,d3,O-O,Bxc6,bxc6,O-O,Bg4,h3,Bxf3,Qxf3,Re8,Qg3,Bd6,Bf4', 'Nh5,Bxd6,Nxg3', 'https://lichess.org/training/MO4w3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MO8ce', 'Bullet', 'GM zvonokchess', 2748, 'GM Elfugitivo', 2715, 'd4,Nf6,c4,c5,Nc3,cxd4,Qxd4,Nc6,Qd1,e6,Nf3,d5,cxd5,exd5,e3,Bb4,Be2,O-O,O-O,Bg4,Nb5,a6,Nbd4,Re8,b3,Bd6,Bb2,Rc8,h3,Bh5,Nf5,Bb8,N3d4,Bg6,Nh4,Qd6,g3,Qd7,Nxg6,hxg6,Kg2,Ne5,Nf3,Nc6,Rc1,Ne4,Nd4,Qd6,Bg4,f5,Bf3,Nxg3,Rg1,Ne4,Kf1,Qh2,Rxg6', 'Qxf2#', 'https://lichess.org/training/MO8ce');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mO9It', 'Rapid', 'CrisTran', 1807, 'kocevarnina', 1746, 'd4,d6,e4,Nf6,Nc3,g6,f4,Bg7,Nf3,c6,Be3,Qa5,Bd3,d5,e5,Ne4,O-O,Nxc3,bxc3,Qxc3,f5,Bxf5,Bxf5,Qxe3+,Kh1,gxf5,Rb1,b5,a4,bxa4,c4,dxc4,Qxa4,O-O,Qxc4,e6,Rbe1,Qa3,Ng5,Qa6,Qb3,Nd7,Qg3,Rab8,Ra1,Qc4,Nf3,Rb4,Rfd1,Ra4,Rac1,Qd5,h3,Rb8,Rc2,Rb7,h4,Rb6,h5,Rb3', 'h6,Kf8,Qxg7+', 'https://lichess.org/training/mO9It');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MO9Ml', 'Rapid', 'capsfisch', 2119, 'ibo', 1964, 'd4,Nf6,c4,c6,Nf3,d5,Nc3,Bg4,Ne5,Bf5,cxd5,cxd5,Bg5,e6,e3,Be7,Bb5+,Nbd7,Nxd7,Nxd7,Bxe7,Qxe7,O-O,O-O,a4,Nf6,Bd3,g6,Bxf5,gxf5,Qd3,Kg7,Rfc1,Rg8,Ne2,Kh8,Rc2,Ne4,Ng3,Qg5,Qf1,Rac8,Rac1,Rxc2,Rxc2,h5,Nxe4,fxe4,b4,h4,Rc5,Rg7,g3,Qh5,Rc2,hxg3,hxg3', 'Rh7,Qg2,Qd1+', 'https://lichess.org/training/MO9Ml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('moA8w', 'Rapid', 'cipreschesss', 1872, 'JuanArrona', 1933, 'd4,Nf6,Bf4,d5,e3,g6,c3,Bg7,Nf3,c5,Nbd2,O-O,Bd3,Nc6,O-O,Nh5,Bg5,h6,Bh4,g5,Bg3,Nxg3,hxg3,e5,dxe5,Nxe5,Nxe5,Bxe5,Nf3,Bg7,Qc2,f5,c4,Be6,cxd5,Qxd5,Rfd1,Qc6,Bc4,Rae8,Bxe6+,Rxe6,Qb3,b6,Rac1,Kh7,Nd4,Bxd4,exd4,Re4,dxc5,bxc5,Rd5,c4,Qb5,Qg6,Rd7+,Kh8,Rcd1,f4,Rd8,Ree8,R1d6', 'Re1+,Kh2,Qh5#', 'https://lichess.org/training/moA8w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mobKw', 'Rapid', 'Emilio-Sam', 2030, 'famvalues', 2001, 'c4,Nf6,d4,g6,Nc3,Bg7,Bf4,d5,cxd5,Nxd5,Bg3,O-O,e4,Nxc3,bxc3,c5,e5,cxd4,cxd4,Nc6,Ne2,Qb6,Qd2,Rd8,Rd1,Nxe5,Bxe5,Bxe5,g3,Be6,Bg2,Rd7,O-O,Rad8,Rb1,Qa6,Qe3,Bxd4,Nxd4,Rxd4,Rxb7,Qxa2,Rxe7,a5,Bh3,Bxh3,Re8+,Kg7,Qe5+,Kh6,Qe3+,Kh5,Re5+,Bf5,h3,Qd2,g4+,Rxg4+', 'hxg4+,Kxg4,Qg3+', 'https://lichess.org/training/mobKw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('moBuU', 'Rapid', 'Rife', 2154, 'igoy-D00B10', 2231, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Bg5,e6,Nf3,Bb4,c5,O-O,a3,Bxc3+,bxc3,Qa5,Qc2,Ne4,Bd2,Bd7,Bd3,Nf6,O-O,Qc7,Rfe1,b6,cxb6,axb6,Bg5,h6,Bxf6,gxf6,Qd2,Kg7,Re3,Qd6,Nh4,Rh8,h3,Rxa3,Rxa3,Qxa3,Rg3+,Kf8,Nf3,Ne7,c4,Qd6,Nh2,dxc4,Bxc4,Nf5,Rg4,h5,Rf4,Bc6,Nf3,b5,Bb3,h4,Nh2,Ke7,Ng4,Ra8,Qb2,Qxf4,d5,Bxd5,Qxf6+,Kd7,Ne5+,Qxe5,Qxe5,Bxb3,Qxb5+,Ke7,Qb7+,Kf6,Qxa8,Bd5,Qa1+,Kg6,Kf1,Be4,Qa4,Bd5,Qc2,Kg5,Qc7,Kf6,Qd8+,Kg6,Qg8+,Kf6,g4,hxg3,fxg3,e5,Qh8+,Ke6,Qg8,e4,h4,e3,h5,Bc4+,Ke1,Nd4,Qg4+,Kd5,Qg5+,Ke4,Qf4+,Kd3,h6', 'Nc2+,Kf1,e2+', 'https://lichess.org/training/moBuU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MofYO', 'Rapid', 'Tatarana', 1693, 'elcapa', 1611, 'd4,d5,c4,dxc4,e3,e5,Bxc4,exd4,Qb3,Qe7,Nf3,dxe3,Bxe3,Qb4+,Qxb4,Bxb4+,Nc3,Bxc3+,bxc3,Nf6,Bg5,Nbd7,O-O,O-O,Rfd1,h6,Bf4,c6,Ne5,Nxe5,Bxe5,Nh7,Rd3,Bf5,Rf3,Be6,Bd3,Bd5,Rg3,f6,Bd6,Rfd8,Bf4,g5,Be3,Re8,f4,Be4,Bc4+,Kg7,fxg5,fxg5,Bd4+,Kg6,h4,b5', 'h5+,Kxh5,Bf7+', 'https://lichess.org/training/MofYO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mOGjx', 'Rapid', 'Rahatbmc', 1934, 'VP8WP8FF', 1869, 'd4,d5,Bf4,e6,Nf3,Bd6,e3,Bxf4,exf4,Nf6,c3,O-O,Nbd2,Nbd7,Bd3,c5,g3,b6,O-O,Bb7,Re1,Qc7,Bc2,Rfe8,h3,h6,Ba4,Bc6,Bc2,Rac8,Bd3,Qb7,Qe2,c4,Bc2,a5,a3,b5,Ne5,Nxe5,fxe5,Nd7,Nf3,b4,Reb1,b3,Bd1,f6,Qe3,fxe5,Nxe5,Nxe5,Qxe5,Qc7,Qxc7,Rxc7,Bf3,Rf8,Kg2,Rcf7,Bh5,Rxf2+,Kg1,Kh7,Bg4,Bd7,Re1,R8f6,Rab1,g6,Re5,h5,Bxe6,Bxe6,Rxe6,Rxb2', 'Re7+,Kg8,Rxb2', 'https://lichess.org/training/mOGjx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MOgr8', 'Blitz', 'Riemore', 1984, 'MLM_Celin14', 2012, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,h3,h6,c3,Bd7,Be3,a6,Ba4,b5,Bb3,Be7,O-O,O-O,Nbd2,Na5,Bc2,c5,Re1,Re8,Nf1,Nh7,Ng3,Ng5,Nxg5,Bxg5,Qd2,Bxe3,Qxe3,Nc6,Rad1,Rf8,d4,cxd4,cxd4,Nxd4,Rxd4,exd4,Qxd4,Bc6,Nf5,Qf6,Qd3,Rad8,e5,dxe5', 'Ne7+,Qxe7,Qh7#', 'https://lichess.org/training/MOgr8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MoHDO', 'Blitz', 'sof_gold', 1648, 'sunarto24', 1958, 'd4,d5,Nf3,Nf6,g3,Bf5,Bg2,e6,Bf4,Bd6,Bxd6,cxd6,O-O,Nbd7,Nc3,O-O,e3,Rc8,Nb5,Qb6,Nc3,a6,Rb1,Ne4,Nxe4,dxe4,Nd2,d5,c3,Rfd8,f3,Nf6,fxe4,Bxe4,Nxe4,dxe4,a3,e5,Qe2,exd4,exd4,Re8,Qe3,Qe6,b3,Ng4,Qf4,Nh6,c4,f5,d5,Qf6,Rbe1,Qd4+,Kh1,Rf8,Qd6,Ng4,Qe6+,Kh8,Rxf5,Nf2+,Kg1,Rxf5', 'Qxc8+,Rf8,Qxf8#', 'https://lichess.org/training/MoHDO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mOhMc', 'Rapid', 'Bikalemati', 2013, 'nasr921', 1955, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Bd6,Nf3,Bxg3,hxg3,b6,Nxg5,dxc4,e3,Bb7,Nf3,Qd6,Bxc4,c6,Qc2,Nbd7,O-O-O,O-O-O,Rh4,Qb4,Bd3,Kb8,Rdh1,h5,d5,Qe7,dxe6,fxe6,Kb1,Nc5,Bg6,Ba6,Ka1,Bd3,Qc1,Bxg6,Nd4,Rc8,b4,Nd3,Qc2,Ng4,Rxg4,Ne5,Rxg6,Nxg6,Qxg6,Qxb4,Qc2,e5,Nf5,Rcd8,Rb1,Qa5,Ne7,Qc5,Nf5,Rd7,Nh4,Rhd8,Nf3,Rd3,Rc1,Qa3,Nxe5,Rd2,Nxc6+,Ka8,Qb1,Rc8,Nb5', 'Rxa2+,Qxa2,Qxc1+', 'https://lichess.org/training/mOhMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mOhQF', 'Blitz', 'Alex_Hobotov', 1723, 'calaca', 1720, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,O-O,Bg4,h3,Bh5,g4,Bg6,Re1,a6,Ba4,b5,Bb3,Na5,d4,Nxb3,axb3,Nd7,dxe5,dxe5,Bg5,f6,Be3,Bb4,Qd5,Bf7,Qc6,O-O,Red1,Be8,Rxa6,Rxa6,Qxa6,Bxc3,bxc3,Qb8,Rd5,Nb6,Nh4,Nxd5,exd5,Bg6,Nf5,Bxf5,gxf5,Qc8,Qxb5,Qxf5,h4,Qg4+,Kf1,Qxh4,c4,Qh5,Ke1,Qf7,c3,f5,Qc6,f4,Bc5,Re8,d6,cxd6,Bxd6,e4,Bxf4,h6,Be3,Rf8,c5,Qxb3,Bd4,Qb1+,Ke2,Qd3+,Ke1,e3,Qe6+,Kh8,Qxe3,Qb1+,Ke2,Qb5+,Kd2,Re8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/mOhQF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MojWc', 'Blitz', 'rotcehnebur', 1602, 'chuncho21', 1765, 'a3,e6,e3,c5,c4,d5,b3,d4,exd4,Qxd4,Nc3,Nf6,Qf3,Be7,Nge2,Qg4,Qxg4,Nxg4,h3,Nf6,f3,O-O,g4,a6,Ng3,Bd6,Nge2,Nbd7,d3,Ne5,Ng3,Nxd3+,Bxd3,Bxg3+,Ke2,e5,Ne4,Bf4,Nxf6+,gxf6,Bxf4,exf4,Be4,Be6,Rhd1,Rab8,Rd6,b5,Bd5,bxc4,bxc4,Bxd5,Rxd5,Rb2+,Kd3,Re8,Rxc5', 'Re3+,Kd4,Rd2#', 'https://lichess.org/training/MojWc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MoK7x', 'Classical', 'youngmoney2299', 2021, 'matador2016', 2099, 'd4,c6,e3,Nf6,Bd3,d5,f4,Bg4,Be2,Bxe2,Qxe2,Ne4,Nd2,Qa5,c3,Nf6,Ngf3,Nbd7,O-O,e6,Ne5,c5,Nxd7,Nxd7,dxc5,Qxc5,Nb3,Qb6,Kh1,Nf6,e4,dxe4,Be3,Qc7,Qb5+,Qd7,Qg5,Qd3,Rfd1,Qa6,Nc5,Qc6,b4,b6,Na6,h6,Qe5,Ng4,Qc7,Rc8', 'Rd8+,Rxd8,Qxc6+', 'https://lichess.org/training/MoK7x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MoKTK', 'Blitz', 'danikoshvili', 2570, 'NM rychessmaster1', 2488, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Nf6,Nxf6+,exf6,d4,Bd6,Bd3,O-O,O-O,Bg4,h3,Bh5,Be3,Nd7,Be2,Re8,Nh4,Bxe2,Qxe2,Rc8,Nf5,Bf8,Qg4,g6,Nh6+,Bxh6,Bxh6,f5,Qg3,Qf6,c3,Nb6,Bf4,Nd7,a4,Re2,b4,Rce8,b5,Qe6,Be3,Qd5,Rfe1,Rxe1+,Rxe1,Nf6,Qc7,cxb5,axb5,Kg7,Ra1,Qxb5,Rxa7,Nd5,Qxb7,Qxb7,Rxb7,Nxc3,Bf4', 'Ne2+,Kh2,Nxf4', 'https://lichess.org/training/MoKTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MoL6Q', 'Rapid', 'FM calvinmaster', 2155, 'volqa134', 2142, 'e4,e6,Qe2,d5,exd5,Qxd5,Nf3,Qd8,g3,Nf6,Bg2,Be7,O-O,O-O,d4,c6,Rd1,Nbd7,c4,Nb6,Nc3,Re8,h3,Nbd7,b3,Nf8,Bb2,Qc7,d5,cxd5,cxd5,exd5,Rac1,Ba3,Qxe8,Nxe8,Bxa3,Qa5,Bb2,Be6,Nd4,Nf6,f4,g6,g4,Rd8,a3,Qb6,Na4,Qd6,Rf1,Bd7,Nc5,Bc6,Nxc6,Qxc6,Kh1,N8d7', 'Nxd7,Qxd7,Bxf6', 'https://lichess.org/training/MoL6Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mOlxm', 'Rapid', 'harrybeba', 1811, 'KingKongHari', 1707, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,Nxd4,Qxd4,a6,Bc4,b5,Bb3,Bb7,O-O,Ne7,Bg5,h6,Bh4,Rg8,Ne2,g5,Bg3,Ng6,c4,bxc4,Bxc4,h5,h3,g4,Kh2,gxh3,gxh3,h4,Bf4,Bg7,Qd2,Bxe4,Bg5,Qc7+,f4,Qxc4,Nc3,Bxc3,bxc3,Nxf4,Rxf4,Rxg5,Rxe4,Qxe4,Qxg5,Qe2+,Kg1,Ra7,Rb1,d5', 'Rb8+,Kd7,Qd8+', 'https://lichess.org/training/mOlxm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Momti', 'Blitz', 'lacikiss', 1665, 'Polymatheca', 1731, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,b5,Bg5,Bb7,f3,Nbd7,O-O,h6,Bh4,Ne5,Be2,Ng6,Bg3,Nh5,Bf2,e5,Nb3,Nhf4,Na5,Qg5,g3,Bc8,Nd5,Bh3,Re1,Ng2,Nc7+,Kd7,Nxa8,Be7,Nb6+,Ke8,Nd5,Nxe1,Bxe1,Nf4,Nc6,Nxe2+,Qxe2,Qg6,Ndxe7,Qe6,Nd5,Kf8,a3,h5,Bf2,g5,Ncb4,Kg7,Nxa6,Rc8,Nac7,Rxc7,Nxc7,Qd7,Nd5,Be6,Qd2,f6,b3,Qb7,a4,bxa4,Rxa4,Bd7,Rb4,Qa6,Rb6,Qa1+,Kg2', 'Bh3+,Kxh3,Qf1#', 'https://lichess.org/training/Momti');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mon16', 'Blitz', 'rcu21', 1765, 'darthsalunus', 1756, 'd4,d5,c4,Nf6,Nc3,c6,Nf3,Bg4,Bf4,Nbd7,e3,e6,Be2,Bb4,O-O,O-O,h3,Bh5,a3,Be7,cxd5,cxd5,Rc1,a6,Ne5,Bxe2,Qxe2,Nxe5,dxe5,Nd7,Bh2,f6,exf6,Nxf6,g4,Bd6,f4,b5,Qd3,b4,axb4,Bxb4,Na2,Bd6,Rc2,Qa5,Nc3,Rac8,Rff2,Bb4,Ne2,Ne4,Rxc8,Rxc8,Rf1,Qa2,Ng3,Nxg3,Bxg3,a5,Qa6,Rf8,Qxe6+,Kh8,f5,Qxb2,f6,Rxf6,Qe8+,Bf8', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/mon16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MOoAR', 'Blitz', 'FM Artem_0degov', 2561, 'drow_ranger', 2293, 'd4,Nf6,c4,e6,Nc3,Bb4,g3,O-O,Bg2,d5,Qb3,c5,dxc5,Nc6,a3,Bxc5,cxd5,Nd4,Qd1,exd5,Na4,Bb6', 'Nxb6,Qxb6,Be3,Nc2+,Qxc2', 'https://lichess.org/training/MOoAR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Moodk', 'Classical', 'basemharash', 1812, 'Vivek_sharma_m11', 1888, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Nxd7,d4,Ngf6,dxc5,Bxc5,O-O,O-O,Nc3,d4,Nxd4,Ne5,Bg5,Qxd4,Bxf6,Qxd1,Raxd1,gxf6,Ne4,Be7,Rfe1,Kh8,f4,Nc6,Rd3,f5,Ng3,Bh4,Ree3,Bxg3,Rxg3,Rad8,Rdf3,Rd2,Rg5,Rxc2,Rh3,Rg8,Rgh5,Rcxg2+,Kf1,R8g7,Rxf5,Rxb2,Re3,h6,Rf6,Kh7,Rh3,Rb1+,Kf2,Rb2+,Kf1,Nd4', 'Rfxh6+,Kg8,Rh8#', 'https://lichess.org/training/Moodk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MOOKg', 'Rapid', 'apostrov13', 1630, 'anirban007', 1619, 'e4,e5,Bc4,Nc6,a3,Nf6,d3,d5,exd5,Nxd5,Nf3,Nb6,Ba2,Bd6,Be3,Bg4,h3,Bh5,g4,Bg6,c4,Be7,b4,Nd4,Nxe5,O-O,f4,h6,Nxg6,fxg6,c5+,Kh8,cxb6,Bh4+,Kd2,axb6,Nc3,Rxa3,Bc4,b5,Bxd4,bxc4,Rxa3,Qxd4,Ne2', 'Qb2+,Qc2,Qxa3', 'https://lichess.org/training/MOOKg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('moQUM', 'Rapid', 'Amid197124', 2156, 'ShvanovGeorgiy', 2258, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,O-O,O-O,Nbd2,d6,c3,a5,Re1,a4,Bc2,Bd7,Nf1,Na5,Ne3,c5,Nf5,Bxf5,exf5,a3,b3,c4,b4,cxd3,Bxd3,Nc4,Nd2,d5,Bc2,d4,Nxc4,bxc4,Be4,Nxe4,Rxe4,d3,Bd2,Qd5,Qg4,Bf6,Rxc4,Rac8,Re4,Rfd8,c4,h5,Qf3,Rxc4,Rxc4,Qxc4,Qxh5,e4,Rc1,Qxa2,Rc7,Qb1+,Bc1,Qxc1+,Rxc1,d2,Rd1,a2,Kf1,Ra8,Ke2,Bc3,f6', 'a1=Q,Rxa1,Rxa1', 'https://lichess.org/training/moQUM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MoR4u', 'Blitz', 'wwtoyssby', 1593, 'Masterspik', 1571, 'e4,e5,Bc4,d6,Nf3,Bg4,Nc3,Nd7,d3,a6,Ng5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/MoR4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('moriW', 'Rapid', 'RO_BR', 2057, 'Klank2', 1940, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Nd7,Bc4,N5b6,Bxf7+,Kxf7,Ng5+,Kg8,Qf3,Nxe5,dxe5,Qe8,e6,Qg6', 'Qf7+,Qxf7,exf7#', 'https://lichess.org/training/moriW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('morOM', 'Classical', 'fallwings', 1687, 'KovalevVlad', 1703, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,exd4,Qxd4,Qxd4,Nxd4,Nf6,Nc3,Bb4,e5,Nd5,Bd2,O-O,O-O-O,Re8,Nxd5,Bxd2+,Kxd2,cxd5,Rhe1,c5,Nb3,c4,Nc5,f6,e6,b6,Nd7,Bxd7,exd7,Red8,Re8+,Rxe8,dxe8=Q+,Rxe8,Kc3,b5,Rxd5,Kf7,Rd6,Re2,Rd2', 'b4+,Kxb4,Rxd2', 'https://lichess.org/training/morOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MosTY', 'Rapid', 'durmaza-bjksatranc', 1621, 'mohamedreda135', 1622, 'Nf3,Nf6,d4,g6,Nc3,Bg7,Bg5,d6,e4,O-O,g3,Re8,Bg2,h6,e5,dxe5,Bxf6,Bxf6,O-O,exd4,Nxd4,Bxd4,Nb5,Bxb2,Rb1,Qxd1,Rfxd1,Bf6,Nxc7,Bg4,Nxe8,Bxd1,Nc7,Bxc2,Rc1,Be5,Nxa8,Bf5,Bxb7,Nd7,Rc8+,Kg7,f4,Bd4+,Kg2,Nc5,Nc7,Bxc8,Bxc8,e5,Nb5,exf4,Nxd4,fxg3,Nc6,Ne4,hxg3,g5,Nxa7,Kg6,Nc6,f5,a4,h5,a5,f4,gxf4,gxf4,Kf3,Nd6,a6,Nxc8,Ne5+,Kf5,Nc6,h4', 'Ne7+,Nxe7,a7,Nc6,a8=Q', 'https://lichess.org/training/MosTY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MoSYI', 'Classical', 'da303', 1735, 'bilalchentouf', 1840, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,h6,d4,exd4,Qxd4,Nf6,e5,c5,Qh4,dxe5,Nxe5,Ba6,Qa4+,c6,Qxc6+,Nd7,Qxa6,Nxe5,Qb5+,Qd7,Qe2,Qe6,Be3,Bd6,f4,Nc6,O-O,Nd4,Qd3,Nxc2,Qxc2,Qxe3+,Kh1,O-O,Nc3,Qg3', 'Ne4,Qh4,Nxd6', 'https://lichess.org/training/MoSYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MOtVl', 'Rapid', 'Lenstroyer', 1718, 'charly_49', 1724, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,d4,exd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,c5,Qe3,Nf6,Nc3,O-O-O,a4,Ng4,Qf4,Kb8,Be3,Ne5,Rad1,g5,Qg3,h5,Bxc5,h4,Bxa7+,Ka8,Qe3,Nc4,Qd4,Ne5,Nb5,Bg7,Bb8', 'Nf3+,gxf3,Bxd4', 'https://lichess.org/training/MOtVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mOuJ6', 'Rapid', 'bernhard12345', 1859, 'ilijalingur', 1918, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,Nf6,O-O,d6,Be3,Bb6,Na4,Bxe3,fxe3,Bd7,Nc3,O-O,d4,a6,d5,Ne7,Qd3,Ng6,Qe2,b5,Bd3,c5,Qf2,c4,Be2,b4,Nd1,Nxe4,Qe1,c3,bxc3,bxc3,Nxc3,Nxc3,Qxc3,Qb6,Kh1,Bg4,e4,Rfc8,Qd3,Nf4,Qd2,Bd7,c4,Qc5,Rfc1,Qf2,Bf1,Qc5,Rab1,Rcb8,g3,Ng6,Bg2,Rxb1,Rxb1,Qc7,Qc3,Rb8,Rxb8+,Qxb8,Bf1,Qb1,Nd2,Qe1,a3,Bh3,Qd3,Bxf1,Nxf1,Nf8,Kg2,Nh7,c5,dxc5,d6,Nf6,Ne3,Nd7,Nf5,Kf8,Qd5,Qe2+,Kh3,Qh5+,Nh4,g5,Qa8+,Kg7,Qe8,Nf6,Qxe5,gxh4', 'Qxh5,Nxh5,d7', 'https://lichess.org/training/mOuJ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('moVGK', 'Rapid', 'Meera_alhammadi', 1731, 'arnulfoarielrios', 1758, 'f4,c5,Nf3,Nc6,e3,d6,Be2,g6,O-O,Bg7,d3,Nf6,Qe1,O-O,e4,Bg4,h3,Bxf3,Rxf3,Nd4,Rf1,Qb6,Na3,Nxe2+,Qxe2,d5,e5,Nd7,f5,Bxe5,c3,Rac8,fxg6,fxg6,Rxf8+,Rxf8,Bh6,Rf7,Qg4,Qf6,Qxd7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/moVGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('movI8', 'Rapid', 'orgio2014', 1997, 'her01n', 1988, 'e4,e5,Bc4,Nc6,Nc3,Bc5,d3,Nf6,Bg5,h6,Bd2,d6,h3,Bd7,a3,O-O,g4,Nh7,h4,Qc8,g5,Bg4,f3,Bh5,gxh6,g6,Nd5,Kh8,c3,f5,Qe2,fxe4,dxe4,Nf6,O-O-O,Nxd5,Bxd5,Ne7,Ba2,Qd7,Rf1,Qa4,Bg5,Nc6,h7,Bxa3,bxa3,Qxa3+,Qb2,Qa6,Ne2,Bxf3,Ng3,Bxh1,Rxh1,Rf3,h5,gxh5,Rxh5,Raf8,Nf5,Qf1+,Kc2,Rf2+,Bd2,Qe2,Qc1,Qxh5,Qg1,R2xf5', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/movI8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mOwV0', 'Blitz', 'KingDiloRay', 2034, 'Oriyatdada', 2058, 'e4,e6,f4,d5,exd5,exd5,Nf3,Bd6,d3,Ne7,Nc3,O-O,Be2,Bc5,d4,Bb6,O-O,c5,Kh1,cxd4,Nxd4,Nbc6,Be3,Be6,Nxe6,fxe6,Bxb6,axb6,Bg4,Nf5,Re1,Qd6,Bxf5,Rxf5,Nb5,Qxf4,Rxe6,Raf8,h3,Qg3,Re1,Rf2,Qxd5+,Kh8,Rg1,R8f3,Nd4', 'Qxh3+,gxh3,Rxh3#', 'https://lichess.org/training/mOwV0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MOWz1', 'Rapid', 'aim03', 2249, 'ConorMaclaud', 2052, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,d6,a3,Bg4,h3,Bh5,Be2,Qe7,d3,h6,Na4,Nd7,c3,O-O,b4,Bb6,b5,Nd8,Nxb6,axb6,Nh2,Bxe2,Qxe2,f5,Bb2,fxe4,dxe4,Nc5,f3,Nde6,Ng4,Nf4,Qd2,Ra4,Rad1,Qe8,Ne3,Qxb5,Nd5,Nxd5,Qxd5+,Kh7,Rd2,Ra5,Rfd1,Qa4,c4,Nb3,Qe6,Nxd2,Rxd2,Qb3,Rf2,Rf6,Qe7,Qxc4,f4,Qxe4,Qxc7,Rxf4,Rxf4,Qxf4,Qxd6,Rb5', 'Qd3+,e4,Qxb5', 'https://lichess.org/training/MOWz1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mOx6u', 'Classical', 'greenpatriot1', 1663, 'sombra20', 1680, 'd4,d5,c4,c6,Nf3,Nf6,g3,g6,Bg2,Bg7,Qc2,O-O,O-O,Nbd7,Nbd2,Re8,b3,e5,dxe5,Nxe5,Nxe5,Rxe5,Nf3,Re7,Bg5,Qe8,Rfe1,h6,Bxf6,Bxf6,Rad1,dxc4,bxc4,Bf5,Qb3,Rxe2,Qxb7,Rb8', 'Rxe2,Qxe2,Qxb8+', 'https://lichess.org/training/mOx6u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MOznE', 'Rapid', 'HunSoftware', 1969, 'See-ya', 1929, 'e4,Nc6,d4,d5,e5,Bf5,g4,Bg6,h4,h6,h5,Bh7,e6,fxe6,Bd3,Bxd3,Qxd3,Qd6,Nc3,O-O-O,Nf3,Nf6,Nb5,Qb4+,c3,Qa5,Bf4,Rd7,Ne5,Nxe5,dxe5,Nxg4,Rg1,c5,Rxg4,c4,Nxa7+,Qxa7,Qg6,Qb6,Rb1,d4,cxd4,Qxd4,Qxe6', 'Qe4+,Kf1,Qxb1+', 'https://lichess.org/training/MOznE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mP149', 'Rapid', 'germabi', 1967, 'A154', 2009, 'd4,d5,c4,e6,Nc3,h6,Nf3,Nf6,Qc2,Nbd7,c5,Be7,Bd2,O-O,e3,Nh7,Bd3,f5,b4,Ng5,Nxg5,Bxg5,f4,Be7,O-O,Nf6,a3,a6,b5,axb5,Nxb5,Bd7,a4,Bxb5,axb5,b6,cxb6,cxb6,Rxa8,Qxa8,Qc7,Qd8,Rc1,Bd6,Qc6,Qb8,Ra1', 'Rc8,Ra8,Qxa8', 'https://lichess.org/training/mP149');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mP4Q3', 'Rapid', 'Yarun999', 2159, 'chesstony2019', 2042, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Ng3,e6,Bd3,c5,O-O,b6,Re1,Bb7,Nf5,g6,Nh6,Bg7,Bf4,cxd4,Nxf7,Kxf7,Ng5+,Kg8,Nxe6,Qc8,Nc7,Nd5,Re8+,Qxe8,Nxe8,Rxe8,Bc4,Nf6,Qxd4,Re4,Bxd5+,Bxd5,Qd2,Kf7,f3,Re6,Bg3,Rhe8,Re1,Bc4,b3,Ba6,c4,b5,c5,Nh5,Rxe6,Rxe6,Qd7+,Re7,Qd5+,Re6,Bd6,Nf6,Qa8,Nd7,Qd8', 'Bd4+,Kf1,b4#', 'https://lichess.org/training/mP4Q3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mP6w0', 'Classical', 'tadenan', 1809, 'DarkChupa', 1754, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,Nxd4,Bc5,Be3,Nf6', 'Nxc6,bxc6,Bxc5', 'https://lichess.org/training/mP6w0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mP7Om', 'Blitz', 'Nino1976', 2115, 'Choconorst_indigooss', 2265, 'e4,e5,f4,d6,Nf3,Nd7,Nc3,c6,Bc4,Be7,O-O,Ngf6,d4,Qc7,Bxf7+,Kxf7,Ng5+,Kg8,Ne6,Qb8,fxe5,dxe5,d5,Nc5,Nxc5,Bxc5+,Kh1,Bg4,Qd3,Qc7,Bg5,Rf8,Qg3,Qd8,Bxf6,Rxf6,Qxg4,h5,Qg3,h4,Qxe5,h3,Rxf6,hxg2+,Kxg2,gxf6,Qe6+,Kg7,Qg4+,Kf8,Kh1,Bd6,Rf1', 'Rxh2+,Kg1,Qb6+,Rf2,Qxf2#', 'https://lichess.org/training/mP7Om');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MP9YA', 'Rapid', 'JohnnyMax', 1698, 'mkin', 1699, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,Nc3,c6,O-O,Be7,d3,O-O,Be3,Nbd7,Rfd1,Nb6,Bb3,Qc7,d4,Rae8,Qg3,Nfd7,d5,Kh8,dxc6,bxc6,Rd2,Nc8,Rad1,Qd8,f4,Bh4,Qh2,Bf6,f5,Bg5,Qg3,Bxe3+,Qxe3,Qe7,Na4,Nf6,Bc4,Rd8,Ba6,Rd7,Bxc8,Rxc8,c4,Rb8,b3,Rbd8,Rd3,Nh5,g3,Nf6,R1d2,g6,g4,gxf5,gxf5,Nh5,Qh6,Nf4,f6,Rg8+,Kf1,Qe6,Rf3,Rdd8,Nc3,Rg6,Qh4,Rdg8,Ne2,Nxe2,Kxe2,Rg2+,Ke3,Rxd2,Kxd2,Qe8,Rg3,Rxg3,Qxg3,Qg8,Qxg8+,Kxg8,h4,h5,c5,dxc5,Kc3,Kh7,Kc4,Kg6,Kxc5,Kxf6,Kxc6', 'Ke6,b4,f5', 'https://lichess.org/training/MP9YA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPefF', 'Classical', 'Octopus45', 1760, 'Aranosky', 1688, 'e4,c5,Bc4,e6,d3,Ne7,f4,d5,Bb5+,Nbc6,c3,Bd7,Qe2,d4,Bc4,g6,Nf3,Bg7,O-O,Qc7,a3,O-O,Ra2,Na5,e5,b5,b4,cxb4,Bxb5,Bxb5,c4,Bc6,axb4,Nb7,Nxd4,Nf5,Nxf5,exf5,Nc3,Qb6+,Be3,Qxb4,Nd5,Bxd5,cxd5,Rfd8,Rb2,Qe7,Rfb1,Nc5', 'd6,Qe8,Bxc5', 'https://lichess.org/training/mPefF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPEFs', 'Rapid', 'sirohach', 1988, 'OlegJdanov', 1935, 'e4,c5,e5,d5,exd6,exd6,Nf3,Nc6,g3,Bg4,Bg2,Rc8,d3,Be7,O-O,Nf6,Nc3,O-O,Bf4,Qd7,Qd2,d5,Ne5,Nxe5,Bxe5,d4,Ne4,Nxe4,Bxe4,Bh3,Rfe1,b6,Bf4,Bd6,Bxd6,Qxd6,Qg5,f5,Bg2,Bxg2,Kxg2,f4,Re4,f3+,Kg1,Qd7', 'Re7,Rf7,Rxd7', 'https://lichess.org/training/mPEFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mpfCE', 'Blitz', 'FM HustlinHarper', 2373, 'juanpolanco', 2099, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,cxd4,Nxd4,Bc5,Qd2,O-O,O-O-O,Bxd4,Bxd4,Nxd4,Qxd4,f6,Nxd5,fxe5,fxe5,Qg5+,Ne3,Qxe5,Kb1,Qxd4,Rxd4,b6,Bc4,Nc5,Rd6,Bb7,b4,Ne4,Bxe6+,Kh8,Rd7,Rab8,Kb2,Rf6,Bd5,Bxd5,Nxd5,Rf2,Re1,Rc8,Rxe4,Rcxc2+,Kb3,Rb2+,Ka4,Rxa2+,Kb5,h6,Ree7,Rf5,Kc6,Rc2+,Kb7,Rxg2,Nc7,a5,b5,a4,Ne6,a3,Rd8+,Kh7,Nf8+,Rxf8,Rxf8,a2,Ra8,Rb2,Kxb6,Rxh2,Rea7,Rg2,Rxa2,Rg6+,Ka5,h5,Rb2,Kh6,b6,Rg5+,Ka6,h4,Rh8+,Kg6,Rxh4,Rb5,Rc4,Rxb2,Rc6+,Kg5', 'b7,Rxb7,Kxb7', 'https://lichess.org/training/mpfCE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPfDX', 'Rapid', 'tv9chess', 1798, 'Andru323', 1786, 'e4,e5,Nf3,Bc5,Be2,Nc6,c3,d6,O-O,Bg4,d4,exd4,Nxd4,Bxe2,Qxe2,Nxd4,cxd4,Bxd4,Qc2,Nf6', 'Qa4+,b5,Qxd4', 'https://lichess.org/training/mPfDX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mpFMD', 'Rapid', 'onlyforchess', 1765, 'gadjimagomed', 1793, 'd4,e6,Bf4,Nf6,Nd2,Nc6,Ngf3,Be7,e4,O-O,Bd3,d5,e5,Nd7,Qe2,f6,O-O-O,fxe5,Bxe5,Ndxe5,dxe5,Bd7,h4,Nb4,Bxh7+,Kxh7,Ng5+,Kg8', 'Qh5,Bxg5,hxg5', 'https://lichess.org/training/mpFMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MPFRU', 'Rapid', 'rendev', 1751, 'athyla', 1768, 'e4,e5,Nf3,Nc6,Be2,Nf6,d3,a6,O-O,Bc5,Be3,b6,Bxc5,bxc5,Nc3,d6,Qd2,Be6,a3,O-O,Ng5,h6,Nxe6,fxe6,f4,Nd4,fxe5,dxe5,Na4,Qd6,c3,Nb3,Qc2,Nxa1,Rxa1,Rab8,c4,Qd4+,Kh1,Qf2,Rf1,Qh4,h3,Ng4,Rxf8+,Rxf8,Bxg4,Rf1+,Kh2,h5,Bxe6+,Kh8,Qe2', 'Qf4+,g3,Rf2+,Qxf2,Qxf2+', 'https://lichess.org/training/MPFRU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mpg09', 'Rapid', 'Fyodorovich', 1744, 'emreatilgan', 1843, 'e4,e5,Bc4,Nf6,d3,Nc6,Nf3,Bc5,c3,a6,Be3,Bxe3,fxe3,d6,O-O,Na5,Nbd2,b5,Bb3,Nxb3,Qxb3,Be6,c4,c6,Qc2,Qb6,Rfe1,O-O,Ng5,Bd7,d4,h6,Ngf3,Rac8,c5,dxc5,dxc5,Qc7,Qc3,Rfe8,b4,Bg4,Nh4,g5,Nf5,Bxf5,exf5,Qd7,Nf3,Qxf5,e4,Nxe4,Qe3,Nf6,Nxe5,Ng4,Nxg4,Rxe3', 'Nxh6+,Kf8,Nxf5,Rxe1+,Rxe1', 'https://lichess.org/training/mpg09');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mpGME', 'Rapid', 'Potapych18', 2013, 'BBD28', 2033, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bc4,e6,Ne5,Nxe5,dxe5,Qxd1+,Kxd1,O-O-O+,Bd2,Bb4,c3,Bc5,Ke2,b5,Bb3,Bd3+,Kf3,Ne7,Rad1,Rd7,Be3,Bxe3,Kxe3,Rhd8,f4,c5,Rd2,c4,Bd1,Nd5+,Kf3,a5,Be2,Nb6,Rhd1,Bxe2+,Kxe2,Rxd2+,Rxd2,Rxd2+,Kxd2,b4,Ne4,Kd7,Nd6,Ke7,Nb7,a4,cxb4,f6,a3,Nd5,g3,Kf7,Nc5,fxe5,fxe5,Nb6,Ke3,g6,hxg6+,Kxg6,Nxe6,Kf5,Nd4+,Kxe5,g4', 'Nd5+,Kd2,Kxd4', 'https://lichess.org/training/mpGME');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MpgX5', 'Blitz', 'sentani', 1809, 'Normamu', 1772, 'e4,c6,d4,e6,c4,Ne7,Nc3,d5,cxd5,cxd5,exd5,Nxd5,Nf3,Bb4,Qc2,Bxc3+,bxc3,O-O,Bd3,f5,O-O,b6,Ne5,Ba6,Bxa6,Nxa6,Re1,Qc8,Bb2,b5,Rac1,Nb6,Qe2,Nc4,Ba1,Re8,Qh5,Qc7,Nf3,g6,Qh6,Qg7,Qg5,h6,Qg3,Nc7,Ne5,Nxe5,Rxe5,Nd5,Rce1,Qf6,h4,Kh7,Qh3,Rac8,Rc1,Nf4,Qg3', 'Qxe5,dxe5,Ne2+,Kh2,Nxg3', 'https://lichess.org/training/MpgX5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPIeE', 'Rapid', 'pawnflakes', 2198, 'boos2016', 2034, 'e4,c5,d3,d5,Nd2,Nc6,Ngf3,e5,g3,Nf6,Bg2,Be7,O-O,d4,a4,O-O,Nc4,Qc7,Nh4,Ne8,Nf5,g6,Nxe7+,Qxe7,Bh6,Ng7,f4,f5,fxe5,Nxe5,Nxe5,Qxe5,exf5,Bxf5,Bxg7,Kxg7,Qd2,Rab8,Rae1,Qc7,Qg5,Rbe8', 'Rxe8,Rxe8,Rxf5', 'https://lichess.org/training/mPIeE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPIRv', 'Blitz', 'GM JseMartinez', 2755, 'GM Kiborg1987', 2712, 'c4,e5,g3,g6,Bg2,Bg7,Nc3,d6,d3,Ne7,e4,c5,f4,Nbc6,Nge2,O-O,O-O,Be6,Be3,Qd7,Qd2,f6,Rf2,a6,Raf1,Rab8,Nd5,b5,fxe5,fxe5,Bh6,Rxf2,Rxf2,Bxd5,cxd5,Nd4,Nxd4,cxd4,Qg5,Rf8,Rxf8+,Bxf8,Bxf8,Kxf8,Qf6+,Kg8,h4,Nc8,Kh2,Qe7,Qf2,Nb6,Bh3,Na4,Kg2,Kg7,Qd2,Nc5,Bg4,b4,h5,gxh5,Bxh5,a5,Qe2,Qg5,Qf3,Qf6,Qd1,Qg5,Be2,Kf6,Qf1+,Ke7,Qh1,h6,Qd1,Kd8,b3,Qe3,Bf1,Qg5,Kh3,Ke7,Qf3,h5,Be2,a4,bxa4,Nxa4,Bd1,Nc5,Be2,Na4,Bd1,Nc5,Qe2,Qg4+,Qxg4', 'hxg4+,Kxg4,Nxd3', 'https://lichess.org/training/mPIRv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPJBT', 'Rapid', 'olegop', 1830, 'MAM_lch', 1802, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,g6,Nf3,Bg7,Be3,e6,Bd3,Ne7,Qd2,O-O,Bh6,Nbc6,Bxg7,Kxg7,Bc4,a6,O-O-O,b5,Bb3,Na5,h4,Bb7,h5,Bxf3,gxf3,Nxb3+,axb3,Nf5,Rh3,Qf6,Ne4,Qe7,Rdh1,Rh8,Ng5,h6,Ne4,Rad8,c3,e5,d5,c6,c4,cxd5,cxd5,Nd4,hxg6', 'Nxb3+,Kb1,Nxd2+', 'https://lichess.org/training/mPJBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPk47', 'Rapid', 'VGSvotin', 1796, 'pennten', 1869, 'e4,d6,Bc4,e5,a3,Nc6,h3,f5,exf5,Bxf5,d3,Nf6,Nf3,e4,Nh4,Bd7,dxe4,Ne5,Bb3,Nxe4,Nf3,Qf6,O-O,O-O-O,Nxe5,dxe5,Qe2,Bc6,Nd2,Qg6,Nxe4,Bxe4,f3,Bc5+,Kh1,Bf5,Qxe5,Bd6,Qe1,Rhe8,Qf2,Bg3,Qxa7,c6,Qa8+,Kc7,Qa4,Qh5,Bf4+,Bxf4,Qxf4+,Kc8,Kh2,Re2,Rae1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/mPk47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPLvH', 'Classical', 'PiRAT13', 1600, 'Raschan111', 1631, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Bc5,h3,Ba6,d3,O-O,O-O,Nd5,a3,Qb6,b4,Bxf2+,Rxf2,Nb7,Qf3,Nd6,c4,Ne7,c5,Qc7,cxd6,Qxd6,Bb3,Kh8,Nxf7+,Rxf7,Qxf7,Ng6,Qf3,Rf8,Qe3,Rxf2,Qxf2,Bxd3,Bb2,Nf4,Nd2,Ne2+,Kh1,e4,Rd1,Ng3+,Kh2', 'Nf1+,Kg1,Qh2#', 'https://lichess.org/training/mPLvH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPML4', 'Rapid', 'RichardSisya', 1927, 'JK_MiB', 1882, 'c4,Nf6,e3,e6,a3,d5,d4,Nbd7,Nc3,c5,dxc5,Nxc5,b4,Nce4,Qc2,Nxc3,Qxc3,Ne4,Qc2,Be7,Bb2,O-O,Nf3,b6,Bd3,Bb7,Ne5,Bf6,f3,Nd6,Bxh7+,Kh8,c5,Rc8,Bd4,Bxe5,Bxe5,bxc5,bxc5,Qa5+,Kf2,Qxc5,Qb1,Ba6,Rc1,Qb5,Bxd6,Rxc1', 'Qxb5,Bxb5,Rxc1', 'https://lichess.org/training/mPML4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MpMpH', 'Blitz', 'ZORROJEVIII', 1954, 'MJC7060', 1961, 'd4,d6,c4,Nf6,Nc3,Nbd7,e4,e5,Bd3,Be7,d5,O-O,f4,c6,Nf3,exf4,Bxf4,Nc5,Bc2,Bg4,O-O,cxd5,exd5,a6,h3,Bh5,a4,Rc8,Qd4,Nfd7,Rae1,Bf6,Qd2,Bxf3,Rxf3,Ne5,Bxe5,Bxe5,Ref1,Qh4,Rf5,Qg3,Ne2,Qh2+,Kf2,Rce8,Qc1,g6,Rh1,Bxb2,Qb1,Rxe2+,Kxe2,Qxg2+,Rf2,Qg5,Qxb2,Re8+,Kf1,Qe3,Bb1,Re5,Qc2,Qe1+,Kg2,Qe3,Rhf1', 'Rg5+,Kh2,Qg3+,Kh1,Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/MpMpH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MPmWv', 'Rapid', 'RoyalManiac', 2011, 'leonardodavichi', 2014, 'd4,f5,c4,c6,Nf3,Nf6,g3,e6,Bg2,Be7,Nc3,d5,cxd5,cxd5,Ng5,O-O,O-O,Nc6,f3,a6,e4,dxe4,fxe4,fxe4,Be3,Nd5,Nxd5,exd5,Qh5,Bxg5,Bxg5,Qe8', 'Rxf8+,Qxf8,Rf1', 'https://lichess.org/training/MPmWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPn5q', 'Rapid', 'AYM2009', 1636, 'synovium', 1685, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,d5,e5,Bb4+,Bd2,Nge7,a3,Bxd2+,Nbxd2,O-O,Be2,Nf5,Nb3,a5,a4,b6,O-O,Nce7,Bb5,Bd7,Bxd7,Qxd7,Qd3,Rac8,Rfc1,Nc6,Qb5,Qb7,Nc5,Qa7,Nb3,Nb4,g4,Ne7,Ng5,h6,Nh3,g5,f4,gxf4,Nxf4,Ng6,Nh5,Qa6,Nf6+,Kg7,Qxa6,Nxa6,Nd2,Nb4,b3,Nd3,Rxc8,Rxc8,Nf3,Rc2,Ne8+,Kf8,Nd6,Rf2,Ne1,Rd2,Nxd3,Rxd3,Rc1,Rxd4,Rc8+,Kg7,Ne8+,Kf8', 'Nf6+,Ke7,Re8#', 'https://lichess.org/training/mPn5q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MpNIQ', 'Rapid', 'ava1397', 1901, 'debole', 2013, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Ng4,Bg5,h6,Bh4,g5,Bg3,Bg7,h3,Ne5,f4,gxf4,Bxf4,Nbc6,Nxc6,bxc6,Qd2,Rb8,O-O-O,Qa5,Qd4,Be6,Kb1,Rb4,Qa7,O-O,Bd2,Rfb8,b3,Bc4,Bxc4,Nxc4,Be1,Qa3,Na4,Rxa4', 'Qxb8+,Kh7,bxa4', 'https://lichess.org/training/MpNIQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPnLr', 'Rapid', 'Drtr', 1631, 'dreros', 1667, 'd4,d5,Bg5,Nf6,Nc3,e6,a3,h6,Bh4,Be7,e3,O-O,Be2,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Bc4,Nc6,Ne2,Bd7,Ng3,f5,O-O,Kh8,Qh5,Rf6,Rab1,Raf8,c3,Be8,Qd1,Bg6,Nh5,Bxh5,Qxh5,f4,Qb5,Nd8,Qe5,f3,g3,a6,Qxe4,b5,Bb3,Qe8,Bd1,Qh5,b4', 'Qh3,Bxf3,Rxf3', 'https://lichess.org/training/mPnLr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MPPrf', 'Rapid', 'mertgurel', 1957, 'zullmastah', 1876, 'e4,e5,Nf3,Nc6,Bc4,Nd4,O-O,Nxf3+,Qxf3,Nf6,d4,d6,dxe5,dxe5,h3,Bd6,Bg5,Be6,Nd2,Qe7,c3,h6,Be3,g5,b4,g4,hxg4,Bxg4,Qg3,O-O-O,Bxa7,Be6,Be3,Bxc4,Nxc4,Nxe4', 'Qg4+,Qe6,Qxe4', 'https://lichess.org/training/MPPrf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mprO2', 'Rapid', 'Gio1212', 1649, 'W-Jarosch', 1679, 'd3,e5,Nf3,Nc6,g3,d5,Bg2,Nf6,O-O,Be6,c3,Bd6,b4,O-O,b5,Ne7,a4,c5,Bg5,Ng6,e4,h6,exd5,Bxd5,Bxf6,Qxf6,c4,Be6,Nbd2,a6,Ne4,Qe7,Nxd6,Qxd6,Qe2,Bf5,Rfd1,axb5,cxb5,Rfd8,Nxe5,Qxe5,Qxe5,Nxe5,Bxb7,Rab8,Be4,Bxe4,dxe4,Nf3+,Kg2,Nd4,Rac1,Ra8,Rxc5,Rxa4,b6,Rb4,Rd5,Rxd5,exd5,Nf5,d6,Rxb6,d7,Rb8,d8=Q+,Rxd8,Rxd8+,Kh7,g4,Nh4+,Kg3,g5,f4,Ng6,f5,Nf4,h4,Kg7,Ra8,Ne2+,Kf3,Nd4+,Ke4,Nb5,hxg5,hxg5,Ra6,Nc3+,Ke5,Nd1,f6+,Kg6,Kd6,Ne3,Ke7,Nxg4,Ra4,Nh6,Ra2,Nf5+,Kf8,Nd6,Rh2,Nf5,Kg8,Kxf6,Rf2,Kg6,Ra2,f6,Ra7,g4,Ra4,Kg5,Kf7,Nh6+,Ke6,f5,Ra7,g3,Ke5,Kh4,Rg7,Ng4+,Kf4,g2', 'Rh7+,Nh6,Rxh6#', 'https://lichess.org/training/mprO2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MpRZh', 'Rapid', 'manuel0033', 1825, 'Oaxaca_1', 1866, 'e4,g6,d4,Bg7,Nf3,d5,e5,Bg4,Be2,Bxf3,Bxf3,e6,c4,c6,cxd5,cxd5,O-O,Nc6,Nc3,a6,Re1,Nge7,Bg5,O-O,Qd2,Qb6,Rad1,Nf5,Be3,Nxe3,fxe3,Rac8,e4,dxe4,Bxe4,Rfd8,Bxc6,Qxc6,Ne4,Rd7,Nf6+,Bxf6,exf6,Kh8,Qh6,Rg8,Re3,Qc2', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/MpRZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MpScu', 'Rapid', 'doooofus', 1747, 'ganesha01', 1670, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Nc3,Be7,Be2,O-O,O-O,c6,Re1,Nbd7,Kh1,Re8,Bf4,Nf8,Ne5,Ne6,Be3,Bd6,f4,Nf8,Bf3,Bd7,Qd2,Kh8,Re2,Bxe5,fxe5,Ng4,Rf1,Nxe3,Qxe3,Be6,Ref2,Qb6,b3,Qd8,Ne2,a5,Nf4,a4,Nxe6,fxe6,Bg4,Qe7,Qh3,axb3,axb3,b6,Rf7,Qg5,Rc7,Ng6,Bxe6', 'Nf4,Qg4,Nxe6,Qxg5,Nxg5', 'https://lichess.org/training/MpScu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MPt61', 'Rapid', 'H3paJ', 1865, 'xerxes123', 1857, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,d4,Nxd4,Nxe5,O-O,b4,Ba7,Bb2,b5,Bxd4,Bxd4,Qxd4,bxa4,Rd1,Re8,Nc3,d6,Nxf7,Kxf7,e5,Ng8,Qf4+,Ke7,exd6+,cxd6,Rd4,Nf6,Re1+,Kf8,Rxe8+,Qxe8,Re4,Qc6,Re3,Bb7,Ne4,Qxc2,Qxd6+,Kg8,Nxf6+,Kh8,h3,Qg6,Rg3,Qxf6,Qc7,Bc6,h4,Rf8,f3,Bb5,Rg4,h5,Rg5,Rg8,f4,Qd4+,Kh2,Qf2', 'Rxh5#', 'https://lichess.org/training/MPt61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mpt6D', 'Blitz', 'IM pekowitsch', 2524, 'kevin6765', 2102, 'd4,e6,c4,d5,g3,Be7,Bg2,Nf6,Nf3,O-O,O-O,h6,Qc2,c6,Nbd2,Nbd7,b3,b6,Bb2,Bb7,e4,dxe4,Nxe4,c5,Nxf6+,Bxf6,Rad1,Qe7,Ng5,hxg5,Bxb7,Rab8,Bg2,cxd4,Bxd4,Bxd4,Rxd4,Nf6,Qd2,Nh7,Rd1,a5,h4,gxh4,Rxh4,Rbd8,Qc2,Rxd1+,Qxd1,Qg5,Qd4,Qd8,Qg4,Nf6,Qh3,Qd1+,Bf1,g5', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/mpt6D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MpuE3', 'Rapid', 'Rangga14', 1860, 'p_munandar_p', 1815, 'e4,d6,Nc3,c6,d4,Nf6,Nf3,Bg4,Be2,Bxf3,Bxf3,e5,Bg5,Nbd7,O-O,h6,Be3,Be7,Qd2,a6,Rad1,Qc7,Ne2,g5,g3,g4,Bg2,h5,f4,h4,fxe5,hxg3,Nxg3,dxe5,Rf2,O-O-O,c3,exd4,cxd4,Nh5,Nf5,Bf6,Re2,g3,h3,Nc5,Qc2,Nf4,Bxf4,Qxf4,Rf1,Qg5,Qxc5,Bxd4+,Qxd4,Rxd4,Nxd4,Qc5,Rd1,Rd8,Rc2', 'Qxc2,Nxc2,Rxd1+', 'https://lichess.org/training/MpuE3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MPuOs', 'Blitz', 'GM Benefactorr', 2796, 'Koubba', 2531, 'e4,e5,Nh3,Nf6,Nc3,d5,exd5,Nxd5,Qh5,Be7,Qxe5,Nb4,Bb5+,c6,O-O,cxb5,Qxg7,Bf6,Re1+,Be6,Rxe6+,fxe6,Qxb7,N8c6,Qxb5,Rb8,Qh5+,Ke7,d3,Nxc2,Ne4,Qxd3,Nxf6,Rb5,Bg5,Nxa1,Ne4+,Rxg5,Qxg5+,Ke8,Nc3,Qg6,Qb5,e5,Ng5,Qxg5,Qxc6+,Kf7,Ne4,Qe7,h4,Rd8,g3,Rd4,Qh6,Ke8,Nf6+,Kd8,Nxh7,Rd1+,Kh2,Qb7,Qf6+,Kc7,Qxe5+,Kb6,Qe3+,Kc7,Qe5+,Kc8,Qe8+,Rd8,Qe6+,Qd7,Qc4+,Qc7,Qg4+,Kb8,Ng5,Nc2,Ne6,Qd7', 'Qf4+,Qd6,Nxd8', 'https://lichess.org/training/MPuOs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPuPO', 'Rapid', 'julian123chess', 2078, 'mojahed', 1929, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Be7,g3,O-O,Bg2,dxc4,O-O,a6,a4,Bd7,Ne5,Nc6,Nxc4,Nd5,Nxd5,exd5,Bxd5,Bh3,Bg2', 'Bxg2,Kxg2,Qd5+,Kg1,Qxc4', 'https://lichess.org/training/mPuPO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mPVVG', 'Rapid', 'Imdrinkingwhiskey', 1617, 'lordlokhraed', 1608, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Qb6,Be3,Qxb2,Nb5,Qb4+,c3,Qa5,Qc2,a6,Nd6+,Bxd6,exd6,Nc6,Ne5,cxd4,Bd2,Ncxe5,cxd4,Nf3+,gxf3,Qd8,Bd3,Nf6,O-O,Qxd6,Rac1,Bd7,Qb2,b5,Bb4,Qxf4,Kh1,Qe3,Bb1,Nh5,Rce1,Qf4,Re5,g5,Bd2,Qh4,Rxg5,O-O-O,a4,Nf4,Rg4,Qh3,Bxf4', 'Qxf1+,Rg1,Qxf3+', 'https://lichess.org/training/mPVVG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mpy85', 'Classical', 'Copernicium7', 1631, 'Kakarottoe', 1707, 'd4,b5,b4,a6,a4,Bb7,axb5,axb5,Rxa8,Bxa8,e3,c6,c4,bxc4,Bxc4,Qb6,Qa4,Bb7,Nf3,d5,Bd3,e6,Nc3,Bxb4,Bd2,Bxc3,Bxc3,Nf6,O-O,O-O,Rb1,Qc7,Ba5,Qe7,Qb4,Qxb4,Rxb4,Ba6,Bxa6,Nxa6,Rb6,Rb8,h3,Rxb6,Bxb6,Nb4,Ne5,Kf8', 'Bc5+,Ke8,Bxb4', 'https://lichess.org/training/Mpy85');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MPYC4', 'Rapid', 'Ahmedsu09', 1600, 'alperselim', 1640, 'd4,c6,Bf4,d5,e3,h6,c4,a6,Nc3,e6,Nf3,Bb4,Bd3,Qa5,Qc2,Ne7,O-O,Nf5,a3,Be7,Ne5,O-O,cxd5,cxd5,Bxf5,exf5,b4,Qd8,Na4,Bg5,Bxg5,hxg5,Rac1,Be6,Qc7,Qe8,Qxb7,Nd7,Nxd7,Bxd7,Nc5,Bc6,Qc7,Rc8,Qa5,Bb5,Nxa6,Bxf1,Rxf1,Qe4,Nc5,Qc2,Qa4,Qd2,Qb3,Ra8,Rd1,Qe2,a4,f4,exf4,Rfe8,g3,gxf4,Qd3,Qg4,a5,f3,a6,Ra7,b5,Rae7,Qf1,Re6,Nxe6,Rxe6,a7,Rh6,a8=Q+,Kh7,h4,Rxh4,Qd3+,g6,Qxd5', 'Rh1+,Kxh1,Qh3+,Kg1,Qg2#', 'https://lichess.org/training/MPYC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mq0Qt', 'Rapid', 'amacalo', 1779, 'lakunma', 1717, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,h3,Nf6,Bg5,h6,Bh4,g5,Bg3,Be6,Bxe6,fxe6,Nh2,d5,exd5,exd5,O-O,h5,h4,g4,Re1,e4,dxe4,O-O,e5,Ne4,Nxg4,Nxg3,Nf6+,Rxf6,exf6,Qxf6', 'Qxd5+,Kg7,Qxc5', 'https://lichess.org/training/mq0Qt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MQ1ZI', 'Rapid', 'RomanStar', 2274, 'Emeryt', 1880, 'd4,e6,Nf3,d5,e3,Nf6,Bd3,c5,b3,Nc6,Bb2,Bd7,a3,Bd6,Nbd2,Rc8,O-O,a6,Ne5,cxd4,exd4,Bxe5,dxe5,Ng8,f4,Nge7,Rf3,g6,Rh3,Nf5,Bxf5,gxf5,Rg3,Ne7,Rg7,Ng6,Qh5,Qe7,a4,Rxc2,Ba3,Qh4,Qxh4,Nxh4,Nf3,Nxf3+,gxf3,Bc6,Rc1,Rxc1+,Bxc1,Kf8,Rg3,Rg8', 'Ba3+,Ke8,Rxg8+', 'https://lichess.org/training/MQ1ZI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mq4LF', 'Blitz', 'ChinitO9998', 1602, 'el-guru-del-amor', 2003, 'e4,g6,d3,Bg7,Be2,c6,Nf3,e6,O-O,d5,e5,h5,d4,h4,h3,Nh6,Bg5,Qb6,Bxh4,Qxb2,Nbd2,Nf5,Bf6,Bxf6,exf6,Nxd4,Rb1,Nxf3+,Bxf3,Qxf6,Nb3,e5,Nc5,Qg5,Bg4,f5,Be2,Rxh3,Re1,b6,Nd3,e4,Ne5,f4,Nf3,exf3,Bxf3+,Kf7,Qe2,Bd7,Bg4,Bxg4', 'Qe8+,Kg7,Re7+,Qxe7,Qxe7+', 'https://lichess.org/training/mq4LF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mq89H', 'Blitz', 'feruttin', 1613, 'douweq', 1594, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bd6,Nc3,a6,Bxc6,dxc6,O-O,h6,h3,g5,Ne2,g4,hxg4,Bxg4,Ng3,h5,Nf5,Bxf5,exf5,Qd7,Bg5,Qxf5,Bxf6,Qxf6,Re1,O-O-O,Re4,Rhg8,Qd2,Qxf3,Kf1,Qxg2+,Ke2,Qh2,Rf1,Rg2,Ke1,f5,Re2,Rdg8,Kd1,f4,a3,f3,Re3,e4,Rxe4,Bf4,Qe1,Rg1', 'Re8+,Kd7,Qe6#', 'https://lichess.org/training/Mq89H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mQ8WI', 'Blitz', 'lavinya23', 1789, 'OLMEDO_23', 1818, 'd4,d5,c4,c6,Nc3,dxc4,e4,b5,Nf3,Bb7,Ne5,e6,Qh5,Qc7,a4,a6,Be3,Nf6,Qf3,Bb4,g4,O-O,g5,Nfd7,Ng4,c5,h4,cxd4,Bxd4,Nc6,Bxg7,Kxg7,h5,Nde5', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/mQ8WI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqAdA', 'Blitz', 'yostoopkid', 1555, 'json_23', 1692, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Nf6,d3,Be7,Bg5,O-O,Bb3,c6,Nd2,a5,Nf1,b5,Ng3,a4,Bc2,b4,d4,exd4,cxd4,Qa5,Bd2,Ba6,Bd3,c5,dxc5,Bxc5,O-O,Qb6,e5,Ne8,Rfe1,f6,Nf5,fxe5,Qg3,Qf6,Be4,Nd6,Bd5+,Kh8,Ne3,Ne4,Bxe4,d5,Bxd5,Rad8,Rad1,Rxd5,Ng4,Qf5,Be3,Rxd1,Rxd1,Bxe3,Nxe3,Qh5,Rc1,Qf7,h3,Qxa2,Qxe5,a3,bxa3,bxa3,Qg3,Qd2,Rc7,Rg8,Nf5,Qb2,Ne7,a2', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/mqAdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MQAMf', 'Classical', 'WR78', 1852, 'Mon_61', 1977, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,d4,exd4,Nxd4,Bd7,O-O,Be7,Nd5,O-O,Nxe7+,Qxe7,f3,Nxd4,Bxd7,Nxf3+,gxf3,Nxd7,Bf4,Ne5,Kf2,Ng6,Bg3,b6,Qd4,Qe6,Rg1,a5,h4,f6,h5,Ne5,Rg2,h6,Rag1,Rf7,b3,Re8,Qe3,Kh7,Bf4,f5,Rg6,Nxg6', 'hxg6+,Kg8,gxf7+', 'https://lichess.org/training/MQAMf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqCRK', 'Blitz', 'Rothose', 1846, 'LUISMEX', 1806, 'd4,d5,c4,c6,Nf3,Nf6,g3,e6,Nbd2,Bd6,b3,O-O,Bb2,h6,Bg2,Nbd7,O-O,Re8,Ne5,Qc7,f4,Nh7,Rc1,Qd8,e4,dxe4,Nxe4,Nxe5,fxe5,Bf8,Qf3,Qe7,Nd6,Ng5,Qf4,Qd7,Nxe8,Qxe8,h4,Nh7,Be4,g6,Qg4,Bd7,h5,g5,Rf2,Qe7,Rcf1,Be8,Bxh7+,Kxh7,Rf6,Bg7,R6f3,a5,Qe4+,Kg8,d5,cxd5,cxd5,exd5,Qxd5,Rd8,Rxf7,Bxf7,Rxf7,Rxd5,Rxe7,Rd1+,Kf2,Rd2+,Ke3,Rxb2,Rxb7,Rxa2,Ra7,Bxe5,Ke4,Bxg3,Kf5,Bf4,Kg6,g4', 'Ra8+,Bb8,Rxb8#', 'https://lichess.org/training/mqCRK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqD0J', 'Blitz', 'groot786', 1723, 'Clingsor', 1731, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Be3,Bxe3,fxe3,d6,O-O,Bg4,h3,Bh5,Qe1,Qe7,Qg3,Kd8,Ng5,h6,Nf3,Kd7,Nc3,Rag8,Nd5,Nxd5,Bxd5,g5,Nh2,Nb4,Bb3,Bg6,Rf2,h5,Raf1,Rh7,Nf3,g4,hxg4,hxg4,Nh4,Bh5,Nf5,Qg5,Nh4,Rgh8,Rf5,Qe7,Kf2,Bg6,Nxg6,fxg6,Qxg4,gxf5,Qxf5+,Kd8,Ke1,Qh4+,Kd1,Qg3,Qf6+,Kc8', 'Be6+,Kb8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/mqD0J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mQdBT', 'Blitz', 'BlackjackDecay', 1648, 'pancho29', 1702, 'g3,d5,Bg2,e5,Nf3,Nc6,d4,e4,Ne5,Nxe5,dxe5,c6,h4,g6,c3,Bg7,Bf4,Ne7,e3,O-O,Nd2,c5,h5,Nc6,Bh3,Nxe5,Bxe5,Bxe5,Bxc8,Rxc8,Qg4,f5,Qh3,g5,O-O-O,h6,Nxe4,fxe4,Qe6+,Rf7,Rxd5,Qf6,Qxc8+,Kg7,Rhd1,Bxc3,Rd7,Bxb2+,Kb1,Qb6,Rxf7+,Kxf7,Qf5+', 'Bf6+,Kc2,Qb2#', 'https://lichess.org/training/mQdBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MqddZ', 'Rapid', 'Viravato', 1955, 'Bom-Jogo', 1913, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,Nbd7,O-O,e5,Nde2,Nc5,b4,Nxd3,cxd3,Be6,a4,Be7,Be3,d5,exd5,Nxd5,Nxd5,Bxd5,a5,O-O,Qd2,Bc6,f3,Bf6,Rab1,Bb5,Rfd1,Qd7,Ng3,Bd8,Ne4,Bc7,Nc5,Qc8,Ne4,Rd8,Qc3,Bd6,Qxc8,Raxc8,Bb6,Bc7,Nc5,Bxb6,axb6,Bc6,Rb2,Rd5,Rbd2,Rcd8,Kf2,f5,h3,Kf7,g4,e4,fxe4,fxe4,Nxe4,Rb5,Ng3,g6,d4,Rxb4,d5,Be8,Ke3,Rxb6,Ne4,Rb3+,Kd4,Kg7,Ng5,Bf7,Ke5,Rb5,Ne6+,Bxe6,Kxe6,Rb6+,d6,Rc6,Ke7,Rb8,d7,Rf8,d8=Q', 'Rf7+,Ke8,Re6+', 'https://lichess.org/training/MqddZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqDqg', 'Classical', 'rfabian', 1657, 'yosoy_reypeti', 1676, 'e4,e5,f4,Qe7,Nf3,d6,Bc4,Bg4,O-O,h6,fxe5,Nc6,exd6,Qxd6,e5,Qc5+,Kh1,Qxc4,d3,Qa6,d4,O-O-O,Na3,Bxa3,bxa3,Bxf3,Qxf3,Rxd4,Qxf7,Nge7,Be3,Qc4', 'Bxd4,Qxf7,Rxf7', 'https://lichess.org/training/mqDqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mQf6F', 'Rapid', 'PotatoOnPluto', 1693, 'alee359', 1648, 'd4,d5,c4,dxc4,Nc3,c6,e4,b5,a4,Bd7,axb5,cxb5,f4,a6,b4,cxb3,Qxb3,e6,Nf3,Nc6,Bd3,Bb4,O-O,Nge7,Re1,Bxc3,Qxc3,O-O,d5,exd5,exd5,Nxd5,Qb3,Qb6+,Kh1,Ncb4,Bb1,Rfe8,Rd1,Re2,Rxd5,Nxd5,Qxd5,Qf2,Qxa8+,Be8,Bxh7+,Kxh7,Ng5+,Kg8,Bd2,Qd4,Re1,Qxd2', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/mQf6F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MQFCG', 'Rapid', 'Rikikarpov', 1743, 'UniversalArrow', 1621, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Bd3,Qb6,Qc2,cxd4,exd4,e6,Nd2,Be7,Ngf3,Nh5,Be3,h6,Rb1,a5,Qd1,Qc7,Ne5,Nxe5,dxe5,Qxe5,Nf3,Qc7,O-O,O-O,Bd4,Nf6,Ne5,Bd6,Re1,Nd7,Qh5,Nc5,Ng4,Nxd3,Nxh6+,gxh6', 'Qg4+,Kh7,Qg7#', 'https://lichess.org/training/MQFCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqgBc', 'Rapid', 'maciek1959', 1666, 'marquiseofmangoustan', 1740, 'd3,e5,e4,d5,exd5,Qxd5,Nc3,Qe6,Nf3,Nc6,g3,Bc5,Bg2,Bd7,a3,O-O-O,O-O,Nd4,Nxd4,exd4,Qf3,Bc6,Ne4,f5,Ng5,Qg6,Qf4,Bd6,Qd2,h6,Bxc6,hxg5,Bg2,Qh6,Qxg5', 'Qxh2#', 'https://lichess.org/training/mqgBc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MQGv2', 'Rapid', 'jorgesebasti', 1959, 'fstr1', 1943, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,c6,Bd2,d5,e3,O-O,cxd5,cxd5,a3,Bxc3,Bxc3,Bd7,Bd3,Qb6,Rc1,Bb5,O-O,Bxd3,Qxd3,Nc6,h4,Rac8,Rfe1,Ne4,Re2,Ne7,Ne5,Ng6', 'Nd7,Qd8,Nxf8', 'https://lichess.org/training/MQGv2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mQHZg', 'Rapid', 'Karl55', 1643, 'atomas69', 1650, 'e4,e5,Nf3,Bc5,Nc3,Nc6,Bc4,Nf6,d3,Bxf2+,Kxf2,Ng4+,Ke2,Nd4+,Nxd4,exd4,Nd5,c6,Nf4,d5,exd5,Ne3,Bxe3', 'Bg4+,Kf1,Bxd1', 'https://lichess.org/training/mQHZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqImT', 'Rapid', 'The_Wall', 1933, 'komarnik', 1921, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nc3,Bf5,h3,e6,Nf3,c5,Be3,cxd4,Nxd4,Bg6,Qf3,Qd7,c5,Bxc5', 'Bb5,Nc6,Nxc6', 'https://lichess.org/training/mqImT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MqIyZ', 'Blitz', 'Dr_Martic', 2582, 'FM Ratbel', 2412, 'd4,Nf6,Nc3,c5,d5,Qb6,e4,d6,f4,g6,Nf3,Bg7,Bc4,Bg4,O-O,Bxf3,Qxf3,Nbd7,a4,a6,a5,Qc7,Be3,O-O,h3,b5,axb6,Nxb6,Bxa6,Rfb8,Bb5,Nc8,e5,dxe5,fxe5,Qxe5,Bf4,Qd4+,Kh1,Rxa1,Rxa1,Nd6,Bc6,Rxb2,Ra8+,Bf8,Bh6,Nfe8,Bxe8,Bxh6', 'Bxf7+,Kg7,Rg8#', 'https://lichess.org/training/MqIyZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MQKKF', 'Rapid', 'Dellizium', 1934, 'alvaro-zapata60', 2017, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c3,Bd6,Bg5,O-O,Bd3,Bg4,h3,Bh5,O-O,Nbd7,Nbd2,c6,Qc2,Qc7,Rfe1,Rae8,Rxe8,Rxe8,Re1,Rxe1+,Nxe1,Bf4,Bxf4,Qxf4,Nef3,Bg6,Bxg6,hxg6,Qd1,g5,Qe2,Ne4,Nxe4,dxe4,Nd2,f5,g3,Qd6,Qh5,Qe7,Qg6,e3,Nf3,e2,Ne1,Qe4,Qxg5', 'Qb1,Qd2,Qd1,Qxe2,Qxe2', 'https://lichess.org/training/MQKKF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqLcM', 'Classical', 'Hamidkeshtkar', 1654, 'gutomkoia', 1683, 'd4,d5,g3,Nf6,Bg2,e6,Nf3,Be7,O-O,O-O,b3,c5,c3,b5,Bb2,Bd7,Ne5,Bd6,Nxd7,Qxd7,a3,Nc6,dxc5,Bxc5,Nd2,a5,e3,Rfe8,c4,bxc4,bxc4,Rab8,Bc3,d4,exd4,Bxd4', 'Bxc6,Qxc6,Bxd4', 'https://lichess.org/training/mqLcM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MQLMV', 'Rapid', 'Hakeemo', 1819, 'The-Hustler10', 1858, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be2,O-O,O-O,Ne8,Be3,Bf6,a3,c5,Ndb5,a6,e5,Bxe5,Nxd6,Bxd6,Qd3,Qf6,Nd5,Qe5,g3,Be6,Bf4,Qxb2,Bxd6,Nxd6,Nc7,Bc4,Qxd6,Bxe2,Rfb1,Qxc2,Re1,Bf3', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/MQLMV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqLt1', 'Rapid', 'georgegassenheimer', 1819, 'hardsex', 1832, 'e4,e6,f4,Qh4+,g3,Qd8,Nf3,d5,e5,f6,d4,c5,Be3,fxe5,Nxe5,Nd7,Nxd7,Bxd7,dxc5,Qa5+,Nc3,Bxc5,Bxc5,Qxc5,Bd3,Bc6,Rf1,O-O-O,Qe2,Nf6,O-O-O,Kb8,Qxe6,Rhe8,Qf5,h6,Qh3,d4,Ne2,Qd5,Kb1,Bd7,Qh4,Be6,b3,Bf5,Bc4,Qa5,Rg1,Qa3,Rxd4,Rxd4,Nxd4,Ne4,Ne2,Nd2+,Ka1,Bxc2,Qh5,Rc8,Qe5+,Ka8,Qc3', 'Nxb3+,Qxb3,Bxb3', 'https://lichess.org/training/mqLt1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MQnnN', 'Rapid', 'new_player_123', 1630, 'yuki2333', 1616, 'f4,d5,Nf3,Bg4,Ne5,Nf6,Nxg4,Nxg4,e3,Qd7,Nc3,e6,Qxg4,f5,Qh5+,g6,Qd1,Nc6,Nb5,a6,Nd4,Nxd4,exd4,O-O-O,d3,Qa4,c3,Qb5,c4,Qb4+,Bd2,Qxb2,Be3', 'Bb4+,Bd2,Bxd2+,Qxd2,Qxa1+', 'https://lichess.org/training/MQnnN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqO4m', 'Blitz', 'FM sonson28291', 2260, 'jose350', 1818, 'e4,e5,Nf3,d6,d4,Nd7,Bc4,Be7,O-O,Ngf6,Re1,O-O,Nc3,c6,a4,Qc7,Bb3,exd4,Nxd4,Ne5,f4,Ng6,f5,Ne5,Bf4,Bd7,Qe2,Qb6,Rad1,c5,Ndb5,c4+,Be3,Qc6,Ba2,a6,Nd4,Qc7,Bf4,b5,Nd5,Nxd5,exd5,f6,Ne6,Bxe6,dxe6,Rad8,Kh1,d5,axb5,axb5,Bxe5,fxe5,Qxe5,Bd6,Qxd5,Be7,Qxb5,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,Qd7,Qa5,c3,Qxa2', 'Qe8+,Bf8,Qf7+,Kh8,Qxf8#', 'https://lichess.org/training/mqO4m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MqPmY', 'Classical', 'appu30101990', 1963, 'etiennej', 1896, 'e4,c5,d3,e6,Nf3,d5,exd5,exd5,Be2,Nf6,Bg5,Be7,O-O,O-O,c3,Nc6,Re1,d4,cxd4,cxd4,Qa4,a6,Qc4,Be6,Qa4,b5,Qc2,Rc8,Qd1,Bb4,Rf1,Re8,a3,Bd6,Nbd2,h6,Bh4,g5,Bg3,Bxg3,fxg3,Qd5,Ne1,Kg7,Rc1,Re7,Bf3,Qd6,Ne4,Nxe4,Bxe4,Bd5,Qg4,Rce8,Qf5,Bxe4,dxe4,d3,Nxd3,Nd4,Qf2,Rd8,Rc5,Ne2+,Qxe2,Qxd3,Qxd3,Rxd3,Re1,Rb3,Re2,Rd3,Rc6,Re6,Rxe6,fxe6,e5,Kg6,g4,Kf7,Rc2,a5,Rc5,Rd5,Rc7+,Kg6,Ra7,a4,Ra6,Rxe5,Rb6,Kf6,Kf2,Rc5,Kf3,Rc2,Rxb5,Ke7,h3,Kd6,Rb6+,Kd5,Rb5+,Rc5,Rxc5+', 'Kxc5,Ke4,Kc4,g3,Kb3', 'https://lichess.org/training/MqPmY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MQpuM', 'Rapid', 'Kooksta', 1832, 'bogdankukic', 1920, 'e4,d6,d4,c6,Bc4,d5,exd5,cxd5,Bb5+,Nc6,c3,Bd7,Bxc6,bxc6,Bf4,Nf6,Nd2,Bg4,Ngf3,e6,Bg5,h6,Bh4,Rb8,b4,Be7,h3,Bxf3,Nxf3,Ne4,Bxe7,Qxe7,Qc2,f6,Nd2,Nd6,O-O,O-O,Nb3,Nb7,a4,a6,a5,Ra8,Nc5,Nxc5,bxc5,Rab8,Rfb1,Qc7,Rb6,Ra8,Qa4,Rfc8,Re1,Kf7,g4,Ke7,Kg2,Kd7,f3,Qf4,Rxc6,Rxc6,Rxe6,Rc8,Rd6+,Qxd6,cxd6,Kxd6,Qb4+,Ke6,Qb7,R8c7,Qb8,Rxc3,Qg8+,Kd6,Qf8+,Ke6,f4,g5,f5+,Kd7,Qf7+,Kc8,Qe6+,Kb8,Qxd5,Rc2+,Kf3', 'R7c3+,Ke4,Re2#', 'https://lichess.org/training/MQpuM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MQrK7', 'Rapid', 'hemmati33', 1888, 'fairelepar', 1817, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Ne7,O-O,Bxd3,Qd2,Bg6,Nc3,a6,Na4,Nd7,b3,Nf5,c4,dxc4,bxc4,Be7,Qb2,b5,cxb5,cxb5,Nc3,O-O,h3,Nb6,Ne2,Nc4,Qc2,Rc8,Qb3,Qb6,a4,Rfd8,axb5,Qxb5,Qd3,Ng3,Qd1,Nxf1,Kxf1,Nxe5,Nxe5,Qxe5,Qa4,Qh2,Ng3,Bd6,Be3,Bxg3,fxg3,Qxg3,Bf2,Bd3+,Kg1,Qg6,Ra3,Bf5,Rg3,Qf6,Qxa6,Rc1+,Kh2,Rdc8,Be3,R1c2,Qa4,g6,Bf4,h5,Be5,Qe7,Qb3,f6,Bf4,g5,Be3,h4,Rf3,Qd6+,Kh1,Kf7,Rxf5,R8c3,Qb7+,Qe7', 'Rxf6+,Kxf6,Bxg5+,Kxg5,Qxe7+', 'https://lichess.org/training/MQrK7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MQrLD', 'Blitz', 'marouanechec', 2228, 'NM DoctorHeart', 2147, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,Nc6,Nf3,e6,Qe2,a6,Bf4,Be7,Rd1,Qc7,a3,Nf6,h3,e5,Be3,Be6,Bd3,O-O,O-O,h6,b4,b5,Rc1,Qb7,Rfd1,Rac8,g4,Nh7,Qd2,g5,Ne2,f6,Ng3,Rfd8,Rc2,Nf8,Nf5,Kh7,Rdc1,Ng6,Rc3,Bxf5,gxf5,Nf4,Kh2,Rd7,Qc2,Rdc7,Bf1,d5,exd5,Nxd5,Bg2,Nxe3,fxe3,e4,Nd2,Bd6+,Kh1,Ne5,Rxc7+,Rxc7,Qb1,Rxc1+,Qxc1,Qc7,Qb1,Nf3,Nxe4,Nh4,Nxf6+,Kg7,Nh5+,Kf8,Qb2,Be5,Qd2,Nxg2,Kxg2,Qc6+,Kf2,Ke7,Qd3,Qc1,f6+,Ke6,Qe4', 'Qd2+,Kf1,Qd1+', 'https://lichess.org/training/MQrLD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mQRvg', 'Rapid', 'newtnewt', 1751, 'Yulius', 1802, 'd4,d5,c4,Nc6,Nf3,dxc4,Bf4,Bg4,e3,e6,Bxc4,Bd6,Bxd6,cxd6,h3,Bf5,Bd3,Qa5+,Qd2', 'Bxd3,Qxa5,Nxa5', 'https://lichess.org/training/mQRvg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MqSqg', 'Rapid', 'SkyShoedHorse', 1787, 'Volodymir-Kiev', 1927, 'e4,e5,f4,Bc5,Nf3,d6,Bc4,Nf6,Nc3,O-O,d4,exd4,Nxd4,Re8,Nb3,Nxe4,Bxf7+,Kxf7,Qd5+,Kf8,Nxe4,c6,Qc4,Bf5,Nxc5,dxc5,Qxc5+,Qe7,Qxf5+,Kg8,O-O,Qxe4,Qxe4,Rxe4,Bd2,Na6,Rf2,Rae8,Raf1,Nc5,f5,Rd4,Bc3,Rd7,f6,gxf6,Bxf6,Rf7,Bd4,Rxf2,Bxf2,Na4,b3,Nc3,a4,Re2,Bxa7,Rxc2,Re1,Kf7,Re3', 'Rc1+,Kf2,Nd1+,Kf3,Nxe3', 'https://lichess.org/training/MqSqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqsz3', 'Blitz', 'FM Pavelkost87', 2468, 'gemivuk', 2451, 'e4,c5,Nf3,e6,d3,Nc6,Nbd2,Nf6,g3,d6,Bg2,Be7,O-O,O-O,Nh4,d5,f4,dxe4,dxe4,e5,Nf5,exf4,Nxe7+,Qxe7,gxf4,Bg4,Qe1,Nd4,e5,Nxc2,Qh4,Nd5,Qxg4,Nde3,Qg3', 'Nxf1,Bxf1,Nxa1', 'https://lichess.org/training/mqsz3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MqTjg', 'Rapid', 'Maloi555', 1995, 'mgermuth', 1934, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,Bg4,Nf3,e6,Nbd2,Be7,O-O,O-O,Qb3,Na5,Qc2,Bxf3,Nxf3,Rc8,Be5,Nc4,Bxf6,Bxf6,Bxh7+,Kh8,Bd3,b5,Qe2,Qc7,Ng5,Bxg5,Qh5+,Bh6,g4,Qe7,h4,Nxb2,Bb1,Rxc3,g5,Rh3,gxh6,Rxh4,hxg7+,Kg8,gxf8=Q+,Kxf8,Qf3', 'Qg5+,Qg3,Rg4', 'https://lichess.org/training/MqTjg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MqtZI', 'Rapid', 'CathalKing', 2151, 'killerspurs', 2068, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,Bb4,Qc2,O-O,a3,Bxc3,Qxc3,e4,Nd4,Ne5,b4,Re8,Bb2,d6,h3,a6,Be2,b6,O-O,c5,Nb3,Be6,f4,exf3,Bxf3,Rc8,bxc5,Bxc4,d4,Nxf3+,Rxf3,Bxb3,Qxb3,dxc5,dxc5,Rxc5,Raf1,Rb5,Bxf6,Rxb3,Bxd8,Rxd8,Rxf7,Rxa3,Rb7,b5,Rff7,Rxe3,Rxg7+,Kf8,Rxh7,Red3', 'Rh8#', 'https://lichess.org/training/MqtZI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MqUsA', 'Rapid', 'Danil33', 1666, 'dopingf1cking', 1657, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,e5,Be3,Qa5,Ne2,e4,Bc2,f5,Bb3,Nf6,h3,Be6,O-O,O-O-O,Nd2,h6,Rc1,g5,f3,f4,Bxf4,gxf4,fxe4,Nxe4,Nxe4,dxe4,Bxe6+,Kb8,Nxf4,Bd6,Qe2,Rde8,Bb3,e3,d5,Ne7,Ne6,Nxd5,Rcd1,Nf4,Qxe3,Nxe6,Rxd6,Ng5,Re6,Rxe6', 'Bxe6,Nxe6,Qxe6', 'https://lichess.org/training/MqUsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqv3h', 'Classical', 'Tormoza', 2284, 'pauloleal', 1985, 'd4,Nf6,g3,e6,Bg2,d5,f4,c5,c3,cxd4,cxd4,Nc6,Nc3,Qb6,Nf3,Ne4,O-O,f5,e3,Be7,Ne5,Nxe5,fxe5,O-O,Nxe4,fxe4,Rf4,Bd7,b3,Rac8,Bd2,Bg5,Rxf8+,Rxf8,Rc1,Qa6,a4,Qd3,Rc3', 'Bxe3+,Kh1,Qxd2,Qxd2,Bxd2', 'https://lichess.org/training/mqv3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mqwig', 'Rapid', 'PowerfulDrug', 1813, 'ayaaad', 1757, 'c4,c5,Nc3,Nc6,g3,e5,e4,d6,d3,f5,Bg2,fxe4,Nxe4,Nf6,Ne2,Bf5,Bg5,h6,Bxf6,gxf6,N4c3,Qd7,Nd5,Bg7,Nec3,Be6,Qh5+,Bf7,Qh4,Nd4,Nxf6+,Bxf6,Qxf6,Rf8,O-O-O,Bh5,Qxh6,Bxd1,Rxd1,Rxf2,Rd2,Rxd2,Kxd2,O-O-O', 'Bh3,Qxh3,Qxh3+', 'https://lichess.org/training/Mqwig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mQwLA', 'Rapid', 'A66otgman', 1791, 'Efthimisggr', 1872, 'd4,b6,c4,Bb7,Nc3,e6,Bf4,Bb4,Qc2,Nc6,a3,Nxd4,Qd3,Bxc3+,Qxc3,c5,e3,Nf5,g4,Bxh1,gxf5,Qf6', 'Be5,Qxf5,Bxg7', 'https://lichess.org/training/mQwLA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqyJg', 'Rapid', 'Maunaloa', 1873, 'johans273', 1841, 'e4,e5,Nf3,Qf6,c3,h6,d4,d6,Qb3,g5,Bb5+,c6,dxe5,dxe5,Bc4,Bc5,O-O,Ne7,Be3,Nd7,Nbd2,Ng6,Rad1,Nf4,g3,Nh3+,Kg2,g4,Nh4,b5,Be2,h5,Nf5,Bb6,Bxb6,Nxb6,a4,Bxf5,exf5,Qxf5,axb5,c5,Nc4', 'Qe4+,f3,Qxe2+', 'https://lichess.org/training/mqyJg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MqYoe', 'Rapid', 'Guido2002', 2232, 'George_Kalyvas-88', 2080, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,d5,Bb5,d4,Bxc6+,bxc6,Nb1,Nf6,d3,Be7,b3,O-O,Nbd2,Ng4,Nf1,f5,e5,a5,h3,Nh6,a4,Nf7,h4,h5,Ng5,Nxg5,hxg5,g6,Ng3,Kg7,Bd2,Qd5', 'Nxh5+,gxh5,Qxh5', 'https://lichess.org/training/MqYoe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mqZ6c', 'Blitz', 'Meyzler_Boris', 2255, 'bukitmar', 2057, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h5,Ng5,Ngf6,Bd3,Bxd3,Qxd3,e6,Bf4,Be7,O-O-O,Nd5,Bd2,Bf6,Rde1,a5,Nxe6,fxe6,Qg6+,Kf8,Rxe6,Qc7,Rhe1,Nf4', 'Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/mqZ6c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MQzz0', 'Rapid', 'krishna2003', 1909, 'smavon', 1942, 'e4,d6,d4,c6,c4,h6,Nf3,e6,Nc3,Be7,Bf4,Nd7,Bg3,c5,d5,e5,h4,Ngf6,h5,Nb6,Be2,Bd7,Nd2,Qc7,f4,exf4,Bxf4,O-O-O,a4,Kb8,a5,Nc8,Nf3,a6,e5,Ne8,Qb1,Bg4,b4,Bxf3,gxf3,dxe5,Bg3,cxb4,Ne4,Bd6,Ra4,Nf6,Nxd6,Nxd6,Rxb4,Ka8,Bxe5,Rb8,Rb6,Nfe8,Rg1,f6,Bh2,Qc5,Bxd6,Qxg1+,Kd2,Qxb1,Rxb1,Nxd6,c5,Nf5,f4,Rhd8,d6,Nxd6,cxd6,Rxd6+,Ke3,Re6+,Kf2,Rbe8,Bf3,R8e7,Kg3,f5,Kh4,g6,hxg6,Rxg6,Kh5,Rg3,Bd5,Rd3,Bh1,Rd6,Bg2,Rg7,Bh1,Rd4,Kxh6,Rc7,Kg5,Rdc4,Kxf5,R4c5+,Kg6,Rxa5,f5,Rac5,f6,Rc1,f7,Rxb1,f8=Q+,Ka7,Qf2+', 'Rb6+,Kg5,Rg7+,Kh4,Rh7+,Kg3,Rxh1', 'https://lichess.org/training/MQzz0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mR1Yk', 'Rapid', 'enoko', 1896, 'Mormax77', 1995, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Bd7,cxd5,h6,Bxf6,Qxf6,e4,Bb4,dxe6,Qxe6,Bd3,Qg6,Qf3,Nc6,Ne2,Bg4,Qe3,Bxe2,Kxe2,O-O-O,d5,Ne5,Qxa7,Qxg2,Qa8+,Kd7,Qa4+,Kc8,Qa8+,Kd7,Qa4+,c6,dxc6+,bxc6,Qxb4,Qf3+,Kd2,Qxd3+,Kc1,Ke8,Rd1', 'Qxd1+,Nxd1,Nd3+,Kd2,Nxb4+', 'https://lichess.org/training/mR1Yk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mr3sm', 'Rapid', 'mohammad1334', 1693, 'Anubis251', 1651, 'e4,e5,Nf3,Nc6,Be2,Bc5,O-O,Nf6,d3,O-O,Be3,Bxe3,fxe3,d6,Nc3,Bg4,d4,exd4,exd4,Bxf3,Bxf3,Qd7,Be2,d5,e5,Ne4,Bb5,Nxc3,bxc3,a6,Bd3,Ne7,c4,dxc4,Bxc4,b5,Bb3,a5,a3,Qc6,d5,Qc3,e6,fxe6,dxe6,Rxf1+,Qxf1,a4,Ba2,Rf8,Qb1,Qxa3,Qxb5,Qc3,Qb1,h6,Qd1,Kh8,Rb1,Qa3,Bc4', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/Mr3sm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mR6q2', 'Rapid', 'Tolllk', 1984, 'Pavel1962', 1984, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,d5,a5,h3,Na6,Bd3,Ne8,a3,Nc5,Bc2,Bd7,Be3,b6,Qd2,f5,Bh6,Nf6,Bxg7,Kxg7,O-O,fxe4,Nh2,a4,Rae1,Bf5,g4,e3,fxe3,Bxc2,Qxc2,e4,Rd1,Qe7,Rd4,Qe5,Nb5,Qg3+,Qg2,Qxe3+,Qf2,Nxd5,Qxe3,Nxe3,Rxf8,Rxf8,Nxc7,Nc2,Rxd6,e3,Ne6+,Nxe6,Rxe6,Kf7,Re4,Re8,Rxe8,Kxe8,Kf1,Kd7,Ke2,Kc6,Nf1,Kc5,Nxe3', 'Nxe3,Kxe3,Kxc4', 'https://lichess.org/training/mR6q2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mr7WN', 'Rapid', 'Angriff03', 1920, 'evona', 1906, 'e4,c5,Bc4,e5,Nc3,d6,Nf3,h6,d3,Be6,Nd5,Ne7,Be3,Nxd5,exd5,Bd7,Qe2,b5,Bb3,a5,a3,a4,Ba2,Be7,O-O,Bg4,h3,Bh5,b3,O-O,bxa4,Rxa4,Bb3,Rh4,g4,Bxg4,hxg4,Rxg4+,Kh1,Qd7,Rg1,Rh4+,Nh2,Qh3,Rg2,f5,f3,f4,Bd2,Nd7,Rag1,Nf6,Rxg7+,Kh8,Rxe7,Nh5,Be1,Ng3+,Bxg3,fxg3,Qg2', 'Qxh2+,Qxh2,Rxh2#', 'https://lichess.org/training/Mr7WN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MR8lx', 'Rapid', 'adzre', 2035, 'chinotapia', 2020, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,Bb5,Bd7,Nxc6,bxc6,Bd3,Nf6,O-O,a5,a4,O-O,Re1,Qc7,Bd4,Rfb8,e5,Nd5,Nxd5,cxd5,exd6,Qxd6,Bxg7,Kxg7,b3,e6,Qe2,Rb4,Rad1,Qf4,Rb1,Rab8,Qd1,h5,c3,R4b6,Bc2,h4,Re3,Rh8,Rf3,Qe5,h3,Rh5,Qd3,Rg5,Re3,Qf6,Rf3,Qe7', 'Qd4+,e5,Qxb6', 'https://lichess.org/training/MR8lx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MrA2Q', 'Rapid', 'WindyCamel', 2356, 'ramingol3052', 2371, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Bg5,c5,d5,e6,Qd2,a6,a4,exd5,exd5,Re8,Nf3,Qa5,O-O,Ng4,Rfe1,Nd7,h3,Nge5,Nxe5,Nxe5,f4,Nd7,Bd3,Nf6,g4,Bd7,f5,Qb4,fxg6,hxg6,a5,b5,axb6,Qxb6,Rf1,Rab8,Bxf6,Qxb2,Qg5,Re5,Bxe5,Bxe5,Bxg6', 'Qh2#', 'https://lichess.org/training/MrA2Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRa4q', 'Rapid', 'Go_Baduk_Weichi', 2129, 'stojaneskics', 2067, 'Nf3,e6,e4,d5,exd5,exd5,d4,Nf6,Be2,Bg4,O-O,Be7,h3,Bh5,Nc3,c6,Nh4,Bxe2,Qxe2,O-O,Nf5,Re8,Qf3,Bf8,Bf4,Nbd7,Rae1,Qb6,Qd3,a5,b3,Qa6,Qxa6,Rxa6,Rxe8,Nxe8,a4,g6,Nh6+,Bxh6,Bxh6,f5,Re1,Kf7,Bg5,Nef6,Ne2,b5,f3,bxa4,bxa4,Nb6,Nf4,Nxa4,Re6,Ne8', 'Re7+,Kg8,Rxe8+', 'https://lichess.org/training/mRa4q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MrAmg', 'Rapid', 'iraj806', 1692, 'khaso', 1755, 'e4,e5,Nf3,Nf6,d4,d6,dxe5,Nxe4,Bc4,Bg4,Bxf7+,Kxf7,Ng5+,Nxg5,Qxg4,Be7,Bxg5,Bxg5,e6+,Ke8,O-O,Nc6,Nc3,Ne5,Qe4,c6,f4,Qe7,fxe5,Qxe6,Rad1,d5,Qb4,b6,Qd6,Qxd6,exd6,Kd7,Rf7+,Kxd6', 'Ne4+,Ke5,Nxg5', 'https://lichess.org/training/MrAmg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MrBFa', 'Rapid', 'bsp763', 2168, 'Pearman', 2123, 'd4,Nf6,c3,d5,Nd2,g6,f3,Bg7,e4,dxe4,fxe4,O-O,Ngf3,b6,Bd3,Bb7,O-O,Nbd7,e5,Ne8,Ne4,c5,Be3,cxd4,cxd4,f5,Neg5,Nc7,Rc1,Re8,Bc4+,e6,Qb3,Nd5,Bf2,h6', 'Nxe6,Rxe6,Bxd5,Bxd5,Qxd5', 'https://lichess.org/training/MrBFa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mrBk7', 'Rapid', 'kundaras', 1792, 'alexanderss13', 1888, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,O-O,e5,Ne2,Be7,f4,O-O,f5,d5,Nbc3,d4,Nd5,Nxd5,exd5,Qxd5,Ng3,Nc6,Qh5,Bf6,Ne4,b5,Rf3,Ne7,Nxf6+,gxf6,Rh3,Rd8,Qxh7+,Kf8,Qh8+,Ng8,Rg3,Bb7,Qxg8+,Ke7,Qg4,Rg8,Qxg8,Rxg8,Rxg8,e4,Bf1,e3,Bd3,Qe5,Rg3,Qf4,b3', 'Qf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/mrBk7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRbLN', 'Classical', 'miladsafardoost', 1741, 'rvasources', 1776, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,d6,dxe5,Qe7,exd6,Qxe4+,Qe2,Qxe2+,Bxe2,Bxd6,Nc3,Nf6,Be3,Nb4,Bd3,Be6,Bb5+,c6,Ba4,b5,Bb3,Bxb3,axb3,Nxc2+,Ke2,Nxa1,Rxa1,Kd7,Rd1,Kc7,Kf1,Ng4,Bd4,Bxh2,g3,Rhd8,Kg2,Bxg3,Kxg3,Nf6,Be5+,Kb6,Rxd8,Rxd8,Bxf6,gxf6,Kf4,a5,Kf5,Rd6,Ne4,Re6,Nd4,Re8,f3,c5,Ne2,Re6,Nf4,Rc6,Nxf6,a4,bxa4,bxa4,N6d5+,Ka5,Nc3,Rb6,Nd3,c4,Ne5,Rb3,Nxc4+,Kb4,Ne5,a3,Nd5+', 'Kc5,bxa3,Kxd5', 'https://lichess.org/training/mRbLN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mrbZQ', 'Classical', 'vinothchessvpm', 2078, 'Alirahimi0', 1947, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bc4,Nc6,Ne2,Be6,d5,O-O-O,Bd2,Qc5,dxc6,Bxc4,cxb7+,Kxb7,b4,Qe5,O-O,e6,Re1,Bd6,Bf4,Qh5,Bxd6,Rxd6,Qc1,Rhd8,Ng3,Qh4,Nce4,Nxe4', 'Rxe4,Qf6,Rxc4', 'https://lichess.org/training/mrbZQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mrCIv', 'Rapid', 'Vangill', 2164, 'ScottPilgrim', 2172, 'e4,c6,c4,d5,d4,dxe4,Nc3,Nf6,f3,exf3,Nxf3,Bg4,Be2,e6,O-O,Be7,Be3,O-O,h3,Bh5,Ne5,Bxe2,Qxe2,Nbd7,Rad1,Qa5,Bf2,Rad8,g4,Nxe5,dxe5,Nd7,Rde1,Bc5,Kh1,Bxf2,Rxf2,Nc5,Rf3,Na4,Nxa4,Qxa4,b3,Qa5,Ref1,Rd7,h4,Rd2,Qe3,Qxa2,Qf4,Qc2,h5,Rd1,Rxd1,Qxd1+,Kg2,h6,g5,hxg5,Qxg5,Rd8,Rf2,Qd3,Kh2,Rd4,Rg2,Qh7,h6,Kf8,Rg4,Qxh6+', 'Qxh6,gxh6,Rxd4', 'https://lichess.org/training/mrCIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MrEjF', 'Blitz', 'Vladim01', 1713, 'kamekameha', 1755, 'e4,c6,Nf3,d6,Be2,Bg4,h3,Bxf3,Bxf3,g6,Nc3,Bg7,d4,Qb6,Ne2,Nd7,c3,Ngf6,O-O,h5,Qd3,Bh6,Bxh6,Rxh6,b3,g5,Qd2,Rg6,Ng3,g4,hxg4,hxg4,Be2,O-O-O,f3,Rh8,f4,e5,f5,Rgh6,Qe3,exd4,Qxd4,c5,Qe3,Ne5,a4,Qxb3,Rfb1,Qc2,Rb5,Nh5,Nxh5,Rxh5,Kf2,Rg8,Rab1,g3+,Kg1,Rh2,Rxb7,Rgh8', 'Rb8+,Kd7,R1b7+,Kc6,Bb5#', 'https://lichess.org/training/MrEjF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mrF0w', 'Rapid', 'ihsangs', 1839, 'lucasschi', 1968, 'e4,Nf6,Nf3,Nxe4,d3,Nf6,Nc3,e6,Bf4,Bb4,a3,Bxc3+,bxc3,d6,d4,Nc6,Bb5,Bd7,Bg5,h6,Bh4,O-O,h3,Re8,g4,e5,d5,Na5,Bxd7,Qxd7,g5,hxg5,Bxg5,Ne4,h4,Nxc3,Qd3,e4,Qxc3,exf3+,Kd2,Re2+,Kc1,Qf5,Kb2,Qxd5,Rad1,Nc4+,Ka2,Nd2+,Ka1,Rae8,Rxd2,Re1+,Rxe1,Rxe1+,Kb2,Qb5+,Qb3,Qe5+,Qc3', 'Rb1+,Kxb1,Qxc3', 'https://lichess.org/training/mrF0w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRfIJ', 'Blitz', 'Silence333', 1588, 'lambretta1965', 1622, 'e4,d5,Nc3,dxe4,Nxe4,a6,Nf3,Nc6,d4,Bf5,Ng3,Qc8,Bd3,Bxd3,Qxd3,Nf6,a3,e6,O-O,Be7,Bf4,Nd5,Bd2,O-O,c4,Nf6,Bf4,Rd8,Rad1,Bd6,Ne5', 'Bxe5,Bxe5,Nxe5,dxe5,Rxd3', 'https://lichess.org/training/mRfIJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRFql', 'Rapid', 'Nekedisjo', 2036, 'Anna_Nass', 2074, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,dxc4,a4,Bf5,e3,e6,Bxc4,Nbd7,Qe2,Be7,O-O,O-O,e4,Bg6,h3,Qc7,Be3,Rad8,Rac1,Nxe4,Nxe4,Bxe4,Ng5,Bxg5,Bxg5,Bd5,Bxd8,Qxd8,Bxd5,exd5,Rfe1,Nf6,Qe7,Qb6,b4,h6,a5,Qxd4,Qxb7,Ne4,Rf1,Re8,Qxc6,Re6,Qa8+,Kh7,Rc8,Nxf2,Re8,Nxh3+,Kh2,Qe5+,Kxh3,Rxe8,Qxa7,Qh5+,Kg3,Qe5+,Kf2,Re7,Qb6,d4,Kg1,h5,Rd1,Qe3+,Kh1,Qf4,Qxd4', 'Re1+,Rxe1,Qxd4', 'https://lichess.org/training/mRFql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MRG7u', 'Blitz', 'Kashll', 1878, 'SilvaOmar10', 1915, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,h6,Re1,Nf6,h3,Be7,c3,Bd7,d4,exd4,cxd4,a6,Ba4,b5,Bb3,Na5,Bc2,O-O,Nc3,Nc4,b3,Nb6,e5,dxe5,dxe5,Ne8,Qd3,f5,e6,Bc6,Nd4,Be4,Qg3,Bxc2,Nxc2,Bg5,e7,Bxe7,Bxh6,Bf6,Rad1,Qc8,Ne2,Nd6,Nf4,Re8,Nh5,Rxe1+,Rxe1,Qf8,Nxf6+,Qxf6,Re6,f4,Qg4,Qb2,Rg6,Ne8,Ne1,Rd8,Nf3,Rd1+,Kh2,Qa1,g3', 'Rh1+,Kg2,Qf1#', 'https://lichess.org/training/MRG7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRHqR', 'Rapid', 'Bharadwaj20010213', 1674, 'Antary', 1677, 'c4,c5,Nc3,Nc6,e4,e6,Nf3,b6,g3,Bb7,Bg2,Rb8,O-O,Bd6,d4,cxd4,Nxd4,Nge7,Bg5,Be5,Be3,O-O,f4,Bxd4,Bxd4,Ba6,b3,b5,cxb5,Bxb5,Nxb5,Rxb5,Bb2,Qb6+,Kh1,d5,Qg4,g6,f5,exf5,exf5,Nxf5', 'Rxf5', 'https://lichess.org/training/mRHqR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MrjM2', 'Rapid', 'Alfonsobush', 1937, 'alainelhajj9', 1890, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,bxc3,O-O,Bb2,d5,Bd3,Bg4,Be2,Re8,h3,Bh5,Nh2,Bxe2,Qxe2,Ng3,Qxe8+,Qxe8,fxg3,Qe3+,Kh1,Qxg3,Rf3,Qg6,Raf1,Rf8,Ng4,Qc2,Ba3,Re8,Rxf7,Qxc3', 'Rf8+,Rxf8,Rxf8#', 'https://lichess.org/training/MrjM2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRJW7', 'Classical', 'Henny_Penny', 2078, 'KING2810', 2089, 'd4,Nf6,Bg5,Ne4,Bh4,d6,e3,g6,Bd3,f5,Nf3,Bg7,Nbd2,Nxd2,Qxd2,O-O,O-O,Qe8,Qa5,b6', 'Qd5+,e6,Qxa8', 'https://lichess.org/training/mRJW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MRJx0', 'Blitz', 'solaum', 2359, 'FM SereFra99', 2404, 'Nf3,d5,d4,Nf6,Bf4,e6,e3,Bd6,Bg3,O-O,c3,c5,Bd3,Qc7,Nbd2,Nbd7,O-O,Bxg3,hxg3,e5,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Re1,exd4,cxd4,cxd4,Rc1,Qb6,Qxd4,Be6,Qxb6,axb6,a3,Nxe4,Rxe4,Rac8,Rxc8,Rxc8,Rb4,Rc6,Nd4,Rd6,f3,g6,g4,Kg7,Kf2,h6,Ke3,Kf6,Kf4,g5+,Ke3,Ke5,Rb5+,Kf6,Nf5,Bxf5,Rxf5+,Kg6,Rb5,Rc6,g3,h5,gxh5+,Kxh5,f4,f6,Ke4,Kg4,fxg5,fxg5,a4,Rg6,Rb3,Rc6,Kd5,Kf5,a5,Rc5+,Kd4,Rxa5,Rxb6,Ra4+,Ke3,Kg4,Kf2,Ra7,b4,Ra2+,Ke3,Kxg3,Rxb7,g4,Rg7,Kh3,b5,Rb2,Rh7+,Kg2,Rh5,g3,Kd4,Kf2,Kc5,g2,Rf5+,Kg3,Rg5+,Kf3,Kc6,Rc2+,Kb6,Rc4,Kb7', 'Rg4,Rxg4,Kxg4', 'https://lichess.org/training/MRJx0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mrkPb', 'Rapid', 'VihaanDumir', 2166, 'RidhoNA_LCKB', 1756, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,d4,exd4,Qxd4,f6,Re1,Ne7,e5,fxe5,Nxe5,Bf5,Nc4', 'Bxh2+,Kxh2,Qxd4', 'https://lichess.org/training/mrkPb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MrKsQ', 'Rapid', 'NurKaido', 1610, 'abonour2021', 1643, 'e4,c5,c3,a6,d4,cxd4,cxd4,Nf6,Nc3,d6,f3,g6,Be3,Bg7,Bc4,O-O,Nge2,Nc6,a3,e5,d5,Ne7,O-O,Nd7,b4,f5,Rc1,Nf6,h3,fxe4,fxe4,Bd7,Bd3,Rc8,Qb3,Rc7,Na4,Rxc1,Rxc1,Qe8,Nb6,Nc8,Nxd7,Qxd7,Bd2,Nh5,b5,axb5,Bxb5,Qf7,Qb1,Na7,a4,Nxb5,axb5,Qf2+,Kh1,Qxe2,Ba5,Ng3+,Kh2,Nxe4,Rc7,Qf2,Rxb7,Qg3+,Kg1,Qf2+,Kh2,Qg3+,Kg1,Rf2,Qxe4,Rf4,Qc2,Qe3+,Kh2,Ra4,Qxa4,Bf6,Rb8+,Kg7,b6,Bg5,Qd7+,Kh6,Rb7,Bf4+,Kh1', 'Qc1+,Be1,Qxe1#', 'https://lichess.org/training/MrKsQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mrLb8', 'Rapid', 'mary89', 1737, 'Anurag_pune07', 1726, 'c4,d5,Nf3,dxc4,Qa4+,c6,Qxc4,e6,g3,Nf6,Bg2,g6,O-O,Bg7,Nc3,O-O,d4,b5,Qb3,a5,Bg5,a4,Qc2,Bb7,Ne4,Nbd7,Rfd1,h6,Nxf6+,Nxf6,Bf4,g5,Be5,Qe7,e3,Nd5,Bxg7,Kxg7,Ne5,f6,Nxc6,Bxc6,Qxc6,b4,Bxd5,exd5,Qxd5,Rfd8,Qf3,Rac8,Rac1,Rxc1,Rxc1,a3,bxa3,bxa3,Rc6,Rb8,Qe2', 'Rb1+,Kg2,Qe4+,Qf3,Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/mrLb8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MRLBa', 'Rapid', 'hoby', 2048, 'mekia', 1705, 'e4,e5,Nf3,Qf6,d4,exd4,Qxd4,Qxd4,Nxd4,Nf6,Bd3,Bc5,Be3,Bxd4,Bxd4,d6,O-O,O-O,Bxf6,gxf6,f4,Nc6,f5,Nd4,Nd2,c6,Nf3,Nxf3+,Rxf3,d5,Rg3+,Kh8,Rf1,dxe4,Bxe4,Re8,Rf4,b6,Rh4,Bb7,Rgh3,Kg8,Rxh7,Rxe4', 'Rh8+,Kg7,R3h7#', 'https://lichess.org/training/MRLBa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRllM', 'Classical', 'primator11', 1618, 'DiegoRosa9', 1602, 'e4,c5,Bc4,Nc6,Nf3,Nf6,Ng5,Ne5,Bb3,h6,Nf3,d6,Nxe5,dxe5,d3,e6,O-O,b5,a3,a5,Nd2,a4,Ba2,Be7,c4,b4,axb4,cxb4,b3,axb3,Nxb3,O-O,Bd2,Qxd3,Bxb4', 'Qxd1,Rfxd1,Bxb4', 'https://lichess.org/training/mRllM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mrOYJ', 'Blitz', 'IZverk', 1530, 'Vladislav_Bezruk', 1567, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Bb5+,Bd7,Bxd7+,Nbxd7,Nxd7,Qxd7,e5,Qe6,O-O,dxe5,Qf3,e4,Qc3,O-O-O,Be3,Qd5,Nd2,Be7,Nc4,Ng4,Bf4,Nf6', 'Nb6+,axb6,Qxc7#', 'https://lichess.org/training/mrOYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MRPUm', 'Rapid', 'Samelimelili', 1901, 'fimatex', 1991, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e5,Nf5,Bxf5,exf5,h6,Bh4,Be7,Bxf6,Bxf6,g3,Nc6,Bg2,Qd7,Qd3,O-O,O-O-O,Rfd8,g4,Rac8,h4,Nb4,Qh3,Qc7,g5,hxg5,hxg5,Nxa2+,Kd2,Bxg5+,Ke1,Kf8,Nd5,Qa5+,Kf1,Bh6,f6,Nb4,Ne7,Rxc2,fxg7+,Bxg7,Nf5,Qc5', 'Qh8+,Bxh8,Rxh8#', 'https://lichess.org/training/MRPUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mrQ4Y', 'Rapid', 'Zac_Spase', 1663, 'lokrlol', 1648, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,Ne5,d5,Bxd5,Nh6,d4,Qh4+,Kf1,f6,Bxf4,fxe5,Bxe5,Rg8,g3,Qe7,Bxg8,Nc6,Bd5,Bd7,Kg2,O-O-O,Bf4,Bg7,c3,Be6,Nd2,Bxd5,exd5,Rxd5,Re1,Qf7,Bxh6,Bxh6,Qxg4+,Kb8,Nf3,Rf5,Rf1,Ne7,Ne5,Qf8,Rxf5,Nxf5,Rf1', 'Ne3+,Kh3,Qxf1+', 'https://lichess.org/training/mrQ4Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRQ7x', 'Rapid', 'hover', 1778, 'Gusarenco', 1997, 'd4,f5,f4,Nf6,Nf3,d5,Nc3,e6,a3,Be7,h3,O-O,Rg1,Ne4,Nxe4,fxe4,Nd2,c5,e3,cxd4,exd4,Rxf4,Qe2,Nc6,Nb3,Rf7,Be3,e5,O-O-O,exd4,Bxd4,Nxd4,Rxd4,Qb6,Rh1,Be6,g4,Rc8,Kb1,Bg5,h4,Bf6,Rb4,Qc7,g5,Be7,Rd4,Bc5,Nxc5,Qxc5,Qd2,Rcf8,Bh3,Bxh3,Rxh3,Rf1+,Ka2,R8f2,Rxd5', 'Qc4+,Rb3,Rxd2', 'https://lichess.org/training/mRQ7x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MRqFN', 'Blitz', 'CM LHP_SOUSA', 2322, 'yoisnel', 2328, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qf6,Qd1,Qg6,Nc3,d5,exd5,Nd4,Bd3,Qxg2,Be4,Qh3,Rg1,Bf5,Rg3,Qxh2,Be3,Nf6,Bxd4,exd4,Bxf5,dxc3,Qe2+,Kf8,O-O-O,cxb2+,Kb1,Re8,Qd2,Re5,Qb4+,Kg8,Qxb7,g6,Qb8+,Re8,Rxg6+', 'hxg6,Qxh2,Rxh2', 'https://lichess.org/training/MRqFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mrQmY', 'Rapid', 'ringo3400', 1635, 'karup_eng', 1638, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,Nf6,Nc3,Qa5,Bd2,Qb6,Nd5,Qd8,Bd3,d6,Ng3,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/mrQmY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mrr9R', 'Blitz', 'kankerlotten', 1639, 'GuilhermeTrarbach', 1613, 'e4,c5,c4,d6,Nc3,Nf6,f4,g6,Nf3,Bg7,Be2,Nc6,O-O,a6,d3,O-O,Be3,Bd7,Qd2,Qc7,f5,Ng4,Nd5,Qb8,Bf4,gxf5,Ng5,Bd4+,Kh1,e6,Nxh7,exd5,Bxg4,Kxh7,Bxf5+,Bxf5,exf5,Ne5,Bxe5,dxe5,Rf3,Rh8,Rh3+,Kg7', 'Qg5+,Kf8,Rxh8#', 'https://lichess.org/training/Mrr9R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MrS6m', 'Rapid', 'abidin31', 1640, 'jonamit', 1689, 'e4,e5,Nf3,Nc6,Nc3,Bc5,a3,g5,b4,Bd6,d3,Nd4,Bxg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/MrS6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRsma', 'Blitz', 'loserthegreat', 1761, 'Thorwiss', 1806, 'd4,Nf6,e3,c5,h3,g6,a3,Bg7,Nc3,O-O,dxc5,a5,e4,Qc7,Bd3,Qxc5,Nf3,d6,Be3,Qc7,Qd2,Bd7,Bh6,Qb6,Bxg7,Kxg7,e5,dxe5,Nxe5,Qxb2,Rb1,Qxa3,Rxb7,Bc6,Rxe7,Qa1+,Ke2,Qxh1,Be4,Bxe4,Nxe4,Nxe4,Qd5,Qxg2,Rxf7+,Rxf7,Qxf7+,Kh6,Qf4+,g5,Ng4+,Kg6,Ne5+,Kh5,Ng4,Nc6', 'Qf7+,Kh4,Qxh7#', 'https://lichess.org/training/mRsma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRU7i', 'Blitz', 'FM Obmeister', 2434, 'TheMonsterNotTheNM', 2353, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,a3,Bg4,Nbd2,Qd7,h3,Bh5,b4,f6,exf6,gxf6,Bb2,O-O-O,b5,Ne5,g4,Bf7,Bxd4,Nxc4,Bg2,h5,g5,Nxd2,Qxd2,Bd5,Bxa7,Qxb5,Bd4,Bc5,e3,Ne7,Bxc5', 'Bxf3,Qc2,Bxg2', 'https://lichess.org/training/mRU7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MrUIp', 'Rapid', 'serge2020spb', 1614, 'mohamedkweidir', 1612, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,O-O,d5,Na5,Bd3,Bg4,h3,Bxf3,Qxf3,a6,O-O,c6,Qg3,cxd5,exd5,Nxd5,Bh6,g6,Rac1,Re8,c4,Nf6,f4,Nc6,f5,Nh5,Qg4,Ne5,Qd4,Qf6,fxg6', 'Nf3+,Rxf3,Qxd4+', 'https://lichess.org/training/MrUIp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MRUNN', 'Rapid', 'piechess97', 1815, 'rrjjaayy', 1811, 'd4,e6,c4,g6,e4,Bg7,Nf3,Ne7,Bd3,b6,O-O,c5,d5,exd5,exd5,O-O,Be4,d6,Bg5,Bxb2,Nbd2,Bxa1,Qxa1,Nd7,Bh6,f6,Bxf8,Qxf8,a4,a6,Re1,Ne5,Nxe5,fxe5,Nf3,Nf5,h4,Nd4,Nxd4,cxd4,Qb1,Bf5,Bxf5,Qxf5,Qxb6,Qf8,g3,Rb8,Qxa6,d3,Rd1,Qf3,Ra1,Rf8,Rf1,d2,Qxd6,d1=Q,Qe6+,Rf7,Qe8+,Rf8,Qe6+,Rf7,Qe8+,Kg7,Qxe5+,Kh6,Qg5+,Kg7,Qe5+,Qf6', 'Qxf6+,Kxf6,Rxd1', 'https://lichess.org/training/MRUNN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mruOl', 'Rapid', 'Fischer999', 1783, 'rmnp', 1981, 'Nf3,d5,d4,Nf6,c4,e6,Nc3,c6,Bf4,dxc4,e3,b5,a3,Bb7,b3,cxb3,Qxb3,Nbd7,Ne5,a6,Bd3,c5,dxc5,Nxc5,Qc2,Nxd3+,Nxd3,Rc8,f3,Bd6,Bxd6,Qxd6,O-O,Qc7,Rac1,Nd5,Qb2,Nxc3,Rf2,O-O,Rfc2,Qb6,Rxc3,Qxe3+,Kh1,Rxc3,Qxc3,Rd8,Nb2,Qxc3,Rxc3,g5,h3,Rd2,Nd3,a5,Nc5,Bd5,Ne4,b4', 'Rc8+,Kg7,Nxd2', 'https://lichess.org/training/mruOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mrv6R', 'Classical', 'llibrahim123', 1668, 'yass69', 1666, 'b3,c5,e4,Nc6,Bb5,a6,Bxc6,dxc6,Nf3,Bg4,h3,Bh5,Bb2,f6,Nc3,e6,Qe2,Bxf3,Qxf3,e5,Na4,Qc7,O-O-O,O-O-O,Qe3,c4,bxc4,Qa5,Nc3,Bc5,Qf3,Ne7,Qg4+,Kb8,f4,Bd4,Kb1,exf4,Qxf4+,Be5,Qg4,Nc8,Qxg7,Rhg8,Qxh7,Nb6,Qf7,Rxg2,Rhg1,Rgxd2,Rxd2,Rxd2,Na4,Qxa4,Bxe5+,Ka7,Rc1,Qb4+,Bb2,Nxc4,Qxf6,Na3+,Ka1,Nxc2+,Kb1,Na3+,Ka1,Nc4,Bd4+,c5,Bc3,Rxa2+,Kxa2,Qa3+,Kb1,Qb3+,Bb2', 'Nd2+,Ka1,Qa4+,Ba3,Qxa3#', 'https://lichess.org/training/Mrv6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MrVX3', 'Blitz', 'CM mikromurks', 2396, 'nunax', 2302, 'e4,g6,d4,Bg7,Nc3,c6,f4,d5,e5,Qb6,Nce2,Nh6,Ng3,O-O,c3,f6,exf6,Bxf6,Bd3,Bg4,Qc2,c5,dxc5,Qxc5,h3,Bf5,Bxf5,Nxf5,Nxf5,gxf5,Ne2,Bh4+,g3,Bf6,Qd3,e6,Be3,Qa5,O-O,Nc6,a3,Rad8,Rad1,Qc7,Nd4,Nxd4,Bxd4,Bxd4+,Qxd4,Qg7,Kh2,Qxd4,Rxd4,Kf7,Re1,Rc8,Kg2,b5,Kf3,Kf6,a4,a6,axb5,axb5,Ra1,Ra8,Re1,Rfc8,Rb4,Rc5,g4,Rg8,g5+,Kf7,Rb3,Ra8,h4,Ra4,Kg3,Rcc4,Rf1,b4,Rf3,bxc3,bxc3,Ra7,Re3,Raa4,Rf3,Ra7,Rb2,Rac7,Rb3,h6,Re3,hxg5,hxg5,R7c6,Rb7+,Kg6,Re7,Rxc3,Rxe6+,Rxe6,Rxc3,Rd6,Rd3,d4,Kf3,Kh5,Rd2,d3', 'Rh2+,Kg6,Rh6+,Kg7,Rxd6', 'https://lichess.org/training/MrVX3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MRwBY', 'Blitz', 'Dk240', 1829, 'Thinkergame', 1789, 'e4,e5,Nf3,Qe7,Nc3,c6,d4,d6,Bc4,h6,O-O,g5,dxe5,dxe5,a3,Nf6,b4,Bg4,Be2,Nbd7,b5,Bxf3,Bxf3,Rg8,bxc6,bxc6,Be3,g4,Be2,h5,Rb1,Qxa3,Qd2,Bb4,Rb3,Qa5,Rd1,O-O-O,Qe1,Nxe4,Nxe4,Bxe1', 'Nd6+,Kc7,Rb7#', 'https://lichess.org/training/MRwBY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mrWHY', 'Classical', 'alejandrobarraza', 1906, 'Domingueschess', 1944, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,Be7,Bd3,Nf6,O-O,Bg4,Nbd2,O-O,c3,Nbd7,Re1,Re8,Nf1,d5,Ne3,Bd6,Bd2,Ne4,Nxg4,f5,Nge5,Nxe5,Nxe5,Qh4,Bxe4,fxe4,g3,Qh3,Rxe4,dxe4,Qb3+,Re6,f4,Kf8,Re1,Rh6', 'Qf7#', 'https://lichess.org/training/mrWHY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRwLL', 'Rapid', 'zoen', 1924, 'java66', 1937, 'c4,e5,Qc2,Nc6,a3,a5,Nc3,Nf6,e3,b6,b3,Bb7,Bb2,d6,Nh3,Ne7,Ng5,Ng6,Nge4,Be7,Bd3,O-O,O-O,Rc8,f3,d5,Nxf6+,Bxf6,Rad1,d4,Ne4,Re8,b4,c5,b5,Be7,a4,f5,Ng3,f4,exf4,Nxf4,Bxh7+,Kh8,Bf5,Rc7,Ne4,d3,Qb1,Rf8,Bg4,Bf6,Qa1,Qe8,Nd6,Qg6,Bxe5,Bc8,Bxf6,Rxf6,Nxc8,Rxc8,Rf2,Re8,Re1,Rff8,Re5,Rxe5,Qxe5,Ne2+,Kh1,Re8,Qh5+,Qxh5,Bxh5,Re5,Bg4,Nd4,g3,g5,f4,Re1+,Kg2,Ne2,Bxe2,dxe2,fxg5', 'Rg1+,Kxg1,e1=Q+', 'https://lichess.org/training/mRwLL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRZcd', 'Rapid', 'Kolyandra-2_0_1_7', 1764, 'SSV7', 1707, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,d6,Nf3,O-O,e4,h6,Bh4,c5,d5,Nbd7,Be2,a6,a4,Kh7,O-O,Ng4,h3,Nge5,Nh2,f6,f4,Nf7,f5,g5,Bg3,Nfe5,Bxe5,Nxe5,Bh5,Bd7,Ng4,Nxc4,Bg6+,Kh8,b3,Ne5,Nxe5,fxe5,Ne2,Be8,Bxe8,Qxe8,Ng3,Bf6,Nh5,b5,a5,Qd8,Qg4,Qc7,h4,c4,bxc4,Qxc4,Rfc1,Qd4+,Kh1,Rac8,Nxf6,exf6,hxg5,fxg5,Qh5,Qxe4,Qxh6+,Kg8,Qxg5+,Kh8,Rxc8,Rxc8,f6,Rc7,Rf1', 'Rh7+,Kg1,Qd4+', 'https://lichess.org/training/mRZcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mRZGr', 'Rapid', 'kokturk66tr', 1685, 'Aeistmer', 1711, 'e4,c5,f4,Nc6,Nf3,d6,b3,Bg4,Bb2,Nd4,Bxd4,cxd4,Be2,Bxf3', 'Bb5+,Qd7,Bxd7+', 'https://lichess.org/training/mRZGr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MRZH3', 'Classical', 'Rachmaninoff', 1767, 'NDSch', 1792, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,c5,cxd5,Nxd5,Nxd5,exd5,e3,cxd4,Nxd4,Nc6,Bb5,Bd7,Ba4,Nxd4,Qxd4', 'Qa5+,Bd2,Qxa4', 'https://lichess.org/training/MRZH3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MrZwI', 'Rapid', 'oalv8', 1958, 'ashishyadav', 1992, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,d6,Nxd4,Bd7,Nc3,Be7,Be3,O-O,a3,Nxd4,Bxd4,Bc6,Re1,Re8,b4,a6,Nd5,Bxd5,Bxd5,Nxd5,exd5,Bf8,Qf3,g6', 'Rxe8,Qxe8,Qf6,Qe5,Bxe5', 'https://lichess.org/training/MrZwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MrzwV', 'Blitz', 'AbBuzz', 1992, 'nerfe2600', 2012, 'd3,Nc6,Nc3,e5,Nf3,Bb4,Bd2,d5,a3,Ba5,g3,Be6,Bg2,Nf6,Ng5,Bd7,O-O,h6,Nf3,Be6,e4,d4,Ne2,Bxd2,Nxd2,O-O,b3,Qd7,Nc4,b5,Nd2,a6,Qc1,Bh3,Qb2,Bxg2,Kxg2,Qe6,Nf3,Nh7,c3,dxc3,Qxc3,Rac8,Rac1,Nd4,Nexd4,exd4,Nxd4,Qd7,Nf5,f6,Qc6,Qf7,b4,Rfd8,Qc5,Rxd3,Ne7+,Kh8,Nxc8,Ng5,Qxc7,Qe6,Qf4,Qh3+,Kh1,Nf3,g4,Ne5,Ne7,Rf3,Rc8+,Kh7,Qc1,Nxg4,Rh8+,Kxh8', 'Qc8+,Kh7,Qg8#', 'https://lichess.org/training/MrzwV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ms1Z6', 'Rapid', 'ivankayak', 799, 'lucahontas83', 718, 'd4,d5,Nf3,Qd6,e3,Qb4+,c3,Qd6,Bb5+,c6,Bd3,Nf6,h3,e5,O-O,Be7,Nbd2,O-O,Nb3,Bd8', 'dxe5,Qc7,exf6', 'https://lichess.org/training/Ms1Z6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MS470', 'Blitz', 'fuchouin', 2032, 'bahareh', 1966, 'e4,g6,d4,Bg7,c4,c5,d5,Qb6,Nc3,e6,f4,exd5,exd5,Nf6,Bd3,O-O,Nge2,d6,O-O,Nbd7,Rb1,Ng4,h3,Nh6,g4,Nb8,b3,Na6,Ne4,Nb4,a3,Nxd3,Qxd3,Re8,N2g3,Bd7,f5,Re5,Bb2,Rae8,fxg6,fxg6,Bxe5,Bxe5,Nf6+,Bxf6,Rxf6,Nf7,Rxg6+,hxg6,Qxg6+,Kf8,Rf1,Re7,Nh5,Qxb3', 'Qg7+,Ke8,Qg8#', 'https://lichess.org/training/MS470');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ms4aQ', 'Blitz', 'northcountry', 1890, 'karimi27', 1888, 'c4,f5,g3,Nf6,Bg2,g6,d3,Bg7,Nc3,O-O,Nf3,d6,O-O,Qe8,h3,a5,a4,Na6,Rb1,Rb8,Ng5,h6,Nf3,b6,Re1,Bd7,e4,fxe4,Nxe4,Bxa4,b3,Nxe4,Rxe4,Bc6,Re1,Qf7,Re3,Bd4,Nxd4', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/ms4aQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ms5mW', 'Bullet', 'VINCE24', 1721, 'Elcorrecaminos', 1713, 'e4,d5,exd5,c6,d4,cxd5,c4,Nf6,Nc3,Bf5,Bg5,e6,cxd5,exd5,Nf3,Be7,Bb5+,Nc6,O-O,O-O,Re1,Re8,Ne5,Qd6,Ba4,Ne4,Bf4,g5,Nxc6,Qxf4,Nxe7+,Rxe7,Nxd5,Qxf2+,Kh1,Re6,Rf1,Ng3+,hxg3', 'Rh6+,Qh5,Rxh5#', 'https://lichess.org/training/Ms5mW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ms6Ar', 'Rapid', 'DemianMX', 1710, 'pp9', 1689, 'e4,d5,e5,Bf5,d4,e6,Nf3,c5,Bb5+,Nc6,Nc3,Be4,Nxe4,dxe4,Ng5', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/Ms6Ar');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mS7Dj', 'Rapid', 'Satanlucifer666', 1773, 'iftolen', 1636, 'e4,e5,f4,exf4,Nf3,h6,d4,g5,Bc4,d6,g3,fxg3,hxg3,Bg7,c3,Bg4,Be3,Ne7,Nbd2,Nbc6,Qb3,O-O,Bxg5,hxg5,Nxg5,Na5', 'Bxf7+,Rxf7,Qxf7#', 'https://lichess.org/training/mS7Dj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mS90V', 'Rapid', 'chlebik', 1796, 'ponka65', 1766, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nf6,d3,O-O,c3,a6,Ba4,b5,Bb3,a5,Be3,Bxe3,fxe3,h6,d4,exd4,exd4,Nxe4,Nbd2,Nxd2,Qxd2,d6,Bc2,Ne7,Qd3,Ng6,Qxb5,Bg4,Nd2,c6,Qxc6,Rb8,b3,Re8,Bxg6,fxg6,Qd5+,Kh7,h3,Bf5,Rae1,Rf8,Ne4,Qh4,Nxd6,Rbd8,Qc5,Bd3,Rxf8', 'Qxe1+,Kh2,Rxf8', 'https://lichess.org/training/mS90V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mSB1c', 'Rapid', 'PRBK', 1627, 'strade', 1620, 'd4,d5,c3,Nf6,Nf3,e6,g3,c5,Bg2,Nc6,O-O,b6,Bg5,cxd4,Nxd4,Nxd4,Qxd4,Be7,c4,O-O,cxd5,Nxd5,Bxe7,Qxe7,Nc3,Rd8,Nxd5,exd5,b3,Bb7,Rfe1,Rac8,e3,Qc5,Qxc5,bxc5,Rac1,Rc7,b4,c4,e4,d4,e5,Bxg2,Kxg2,d3,Rc3,d2,Rd1,Kf8,f4,Ke7,Kf2,Ke6,a3,f6,exf6,Kxf6,Ke3,Kf5,Rxd2', 'Re7+,Kf3,Rxd2', 'https://lichess.org/training/mSB1c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MsbfQ', 'Rapid', 'amira120', 1643, 'Andylara', 1637, 'e4,c5,Nf3,d6,h3,Nf6,Nc3,Nc6,Bc4,e6,a3,Qb6,d3,Be7,b4,cxb4,axb4,Qxb4,Bd2,Qb6,O-O,O-O,Rb1,Qc7,Nb5,Qd7,Be3,a6,Nbd4,d5,exd5,Nxd5,Nxc6,Nxe3', 'Nxe7+,Qxe7,fxe3', 'https://lichess.org/training/MsbfQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('msbzo', 'Classical', 'Sjokolade', 1808, 'wsaif2222', 1915, 'd4,d5,c4,c5,dxc5,e6,Nc3,d4,Ne4,h6,Nf3,Nc6,e3,f5,Ng3,Bxc5,exd4,Nxd4,Nxd4,Bxd4,Ne2', 'Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/msbzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mScjL', 'Rapid', 'OlegNK', 1635, 'Matthias1373', 1696, 'e4,d5,e5,c5,Bb5+,Nc6,Nf3,a6,Be2,e6,c3,f6,d4,cxd4,cxd4,Qa5+,Bd2,Bb4,Nc3,fxe5,dxe5,Nge7,O-O,O-O,a3,Bxc3,Bxc3,Qc7,Bd3,Nf5,Ng5,Nxe5,Bxe5,Qxe5,Re1,Qf6,Qh5,h6,Nf3,Qxb2,Rab1,Qxa3,Bxf5,Rxf5,Qg6,Rf6,Qe8+,Kh7,Qh5,Rf5,Qh3,Rf6', 'Ng5+,Kg8,Qxa3', 'https://lichess.org/training/mScjL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MSCMc', 'Blitz', 'FM ilyeschess22', 2246, 'Mischer86', 2290, 'e4,c5,Nf3,e6,d3,Nc6,Nbd2,g6,g3,Bg7,Bg2,d6,O-O,Nge7,c3,O-O,h3,e5,Re1,h6,Nc4,Be6,a4,b6,Nfd2,d5,exd5,Bxd5,Bxd5,Nxd5,Ne4,Re8,Qf3,Re6,Be3,Qd7,Rad1,Rd8,Bc1,Kh7,g4,Qc7,Ng3,a6,h4,b5,axb5,axb5,Nd2,Nf4,d4,cxd4,Nde4,dxc3,bxc3,Rxd1,Rxd1,b4,h5,bxc3,Qxc3,gxh5,gxh5,f5,Nc5,Rd6,Rxd6,Qxd6,Bxf4,exf4', 'Qxg7+,Kxg7,Nxf5+', 'https://lichess.org/training/MSCMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('msEs3', 'Blitz', 'IM Pri_sachu', 2476, 'Hai1836', 2295, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,exd6,h3,Be7,Nf3,Bf5,Be2,O-O,O-O,Bf6,Nc3,Nc6,b3,d5,c5,Nc8,Be3,N8e7,Qd2,h6,Rac1,Re8,a3,Be4,b4,Nf5,b5,Na5,Nxe4,dxe4,Qxa5,exf3,Bxf3,Nxe3,fxe3,Rxe3,d5,b6,Qd2,bxc5,d6,Rxf3,Rxf3,cxd6,Qd5,Rb8,a4,Qe7,Rcf1,Kh8,Kh1,Rf8,a5,Qc7,Rxf6,gxf6,Rxf6,Kg7,Rxd6,Qxa5,Qe5+,Kh7,Qxc5,Re8,Qf5+,Kg8,Rd7,Qe1+,Kh2,Qe5+,Qxe5,Rxe5,Rb7,Kg7,Kg3,Kg6,Kf4,Kf6', 'Rxf7+,Kxf7,Kxe5', 'https://lichess.org/training/msEs3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MSGi0', 'Rapid', 'Chikotan', 2227, 'penguinscanchess', 2203, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Nbd7,Bd3,dxc4,Bxc4,b5,Bd3,a6,e4,c5,e5,cxd4,Nxb5,axb5,exf6,gxf6,O-O,Qb6,Qe2,Bb7,Bxb5,Rg8,Bxd7+,Kxd7,Rd1,Bd6,g3,Qc6,Rd3,Rxa2,Rxa2,Qxc1+,Rd1,Qc6,Rxd4,e5,Rd1', 'Qxf3,Qxf3,Bxf3', 'https://lichess.org/training/MSGi0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MsH28', 'Classical', 'Dvd_FM', 1762, 'at-a-loss-One', 1755, 'Nf3,d5,d4,Nf6,e3,Ne4,Bd3,Nd7,Nfd2,Ndf6,f3,Nd6,O-O,Bf5,Bxf5,Nxf5,Nb3,e6,e4,dxe4,fxe4,Nxe4,Rxf5,exf5,Qf3,g6,Be3,b6,g4,Qd5,Nc3,Qe6,Nd2,Rd8,Ndxe4,fxe4,Nxe4,Be7,Bh6,Rxd4,Re1,Kd8,Bg7,Rxe4', 'Rxe4,Qxe4,Qxe4', 'https://lichess.org/training/MsH28');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MSHan', 'Rapid', 'KLEPON', 2278, 'mmaattiinn', 2279, 'e3,d5,h4,h5,g3,Nf6,Bg2,e6,d4,b6,a4,a5,Ne2,Bb7,O-O,Nbd7,b3,c5,Nbc3,Bd6,Nb5,Bb8,Nf4,Bc6,c4,Bxf4,exf4,Nf8,dxc5,bxc5,Bb2,Ng6,f5,Ne7,fxe6,fxe6,cxd5,exd5,Bxf6,gxf6,Re1,Kf7,Rc1,Bxb5,axb5,Qd6,Rxe7+,Kxe7,Qe2+,Kf7,Rd1,Rad8,b6,Qxb6,Bxd5+,Kf8,Bc4,Rxd1+,Qxd1,Qc6,Qd2,Rh7', 'Qd8+,Qe8,Qxf6+', 'https://lichess.org/training/MSHan');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MsiIz', 'Rapid', 'Latte10', 1828, 'superrasset', 1785, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,a6,d4,b5,Bb3,c4,Bc2,d5,O-O,dxe4,Bxe4,Bb7,a4,Nf6,axb5,axb5,Rxa8,Qxa8,Nbd2,Bd6,Re1,O-O,Ne5,Bxe5,dxe5,Nxe4,Nxe4,Nxe5,Nd6,Nd3,Re3,Bxg2,Nxb5,Bh1,Rg3,f5,Bh6,Rf7,Nd6,Rd7,Qe2,g6,Qxe6+,Kh8,Nf7+,Rxf7,Qxf7', 'Qa1+,Bc1,Qxc1#', 'https://lichess.org/training/MsiIz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mSJle', 'Rapid', 'Igor_Sawicki', 1676, 'Benjamin2268', 1795, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,O-O,Bf4,d6,Nc3,Re8,Qd2,Nbd7,Bh6,c6,Bxg7,Kxg7,e3,e5,d5,cxd5,cxd5,Nc5,e4,Qb6,a3,Nb3,Na4,Qc7,Qd1,Nxa1,Qxa1,Bd7,Nc3,Rac8,Nge2,Qc4,O-O,Ng4,Bh3,Nf6,Bg2,Bb5,Rc1,Qd3,Rd1,Qc4,Rc1,Qb3,Bh3,Rcd8,Nxb5,Qxb5,Nc3,Qd3,Bf1,Qf3', 'Be2,Qxe2,Nxe2', 'https://lichess.org/training/mSJle');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('msKcP', 'Rapid', 'alejop7', 1970, 'LuanCxt', 1697, 'f4,d5,Nf3,Nf6,d4,Bf5,e3,h6,c4,e6,Nc3,Be7,Be2,O-O,O-O,c5,cxd5,Nxd5,Nxd5,Qxd5,b3,Nc6,Bc4,Qe4,Ne5,Nxe5,fxe5,Rfd8,Rxf5,Qxf5,Bd3,Qg5,e4,Qh4', 'g3,Qh3,Bf1', 'https://lichess.org/training/msKcP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MSm0t', 'Rapid', 'Rockchess65', 1890, 'VitoJanko', 1890, 'c3,e5,d3,d5,Bd2,Nf6,e4,c6,Nf3,Bd6,exd5,cxd5,Be2,O-O,O-O,Re8,Bg5,Nc6,Nbd2,Be6,c4,d4,Bh4,Rc8,Rc1,Be7,h3,Qb6,b3,Nd7,Bxe7,Rxe7,Nh2,Nf6,c5,Qb5,a4,Qb4,Ne4,Nxe4,dxe4,Na5,Bg4,Bxg4,Qxg4,Rxc5', 'Qc8+,Rxc8,Rxc8+,Re8,Rxe8+,Qf8,Rxf8+', 'https://lichess.org/training/MSm0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MSn7o', 'Blitz', 'NM b_6', 2424, 'Tartakower257', 2420, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,g6,Nd2,Bg7,Ngf3,O-O,h3,a6,O-O,Bf5,Qe2,Bxd3,Qxd3,b5,a3,Qb6,Rfe1,e6,Nb3,a5,Nc5,b4,Ne5,Rfc8,axb4,axb4,c4,Nxe5,Bxe5,dxc4,Qxc4,Nd5,Bxg7,Kxg7,h4,Rxa1,Rxa1,Qd6,Ra6,Qf4', 'Nxe6+,fxe6,Qxc8', 'https://lichess.org/training/MSn7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('msNAb', 'Blitz', 'odkoo2000', 1751, 'Globale_Gehung', 1762, 'd4,e6,Bf4,c6,Nf3,d5,c4,Bd6,Nc3,Bxf4,e3,Bc7,Bd3,a5,c5,b5,a3,a4,Qc2,h6,h3,Ne7,g4,g6,Ke2,Nd7,Nh4,Nf6,f4,h5,Raf1,Ba6,f5,Qd7,fxg6,hxg4,Rxf6,Rxh4,gxf7+,Kf8,Bg6,Rxh3,Rxh3,gxh3,Kd1,h2,Qg2,e5,Bf5,Nxf5', 'Qg8+,Ke7,f8=Q+,Rxf8,Qxf8#', 'https://lichess.org/training/msNAb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Msnq6', 'Rapid', 'VooV', 1661, 'jaygasi', 1675, 'c4,Nc6,g3,e5,Bg2,f5,e3,Nf6,a3,d6,d4,Bd7,d5,Ne7,Ne2,Ng6,Nbc3,Be7,e4,O-O,Bg5,h6,Bxf6,Rxf6,f4,exf4,Nxf4,Ne5,b3,Qe8,a4,Qf7,O-O,Ng4,Qd2,g5,Nfe2,Rf8,h3,Ne5,exf5,Bxf5,g4,Bd7,Rxf6,Qxf6,Rf1', 'Qxf1+,Bxf1,Nf3+', 'https://lichess.org/training/Msnq6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('msoq8', 'Classical', 'Ahmad_Sh87', 1618, 'AhmedAbdElgawad23', 1621, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qc3,e6,a3,Nf6,Nf3,Nxe4,Qc4,d5,Qb5,a6,Qa4,Bc5,Be3,b5,Bxb5,axb5,Qxa8,Bxe3,fxe3,Qb6,Qxc8+,Ke7,Qxh8', 'Qxe3+,Kd1,Nf2#', 'https://lichess.org/training/msoq8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mspau', 'Blitz', 'wisibada', 2351, 'GM I_Enchev', 2535, 'c4,Nf6,Nc3,e5,Nf3,Nc6,e3,Bb4,Qc2,Bxc3,Qxc3,e4,Nd4,O-O,Nxc6,dxc6,b3,Qe7,a4,Bg4,Ba3,c5,b4,cxb4,Bxb4,c5,Ba3,Rfd8,h3,Bh5,g4,Bg6,Be2,Rd7,Rb1,Rad8,Rb2,h5,Rg1,hxg4,hxg4,Nh7,Rb5,b6,a5,Rd6,axb6,axb6,Rb1,Ng5,Bb2,f6,Rd1,Qd7,Rg3,Qa4,Ra1,Qc6,Rd1,Nf7,g5,Kf8,gxf6,Rxf6,Qb3,Rf5,Bg4,Rg5,Qc3,Ne5,Be2,Rxg3,fxg3,Re8,Qa3,Qf6,Bxe5,Rxe5,Qa8+,Be8,Ra1,Re7,Kd1,Qe5,Kc2,Qxg3,Rf1+,Kg8,Qd5+,Bf7,Qd8+,Re8,Qd7,Qg6,Rh1,Qe6,Qc7,Ra8,Qh2,Kf8', 'Qh8+,Bg8,Rf1+,Ke7,Qxg7+', 'https://lichess.org/training/Mspau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MsPe8', 'Rapid', 'AkshayDaga', 1699, 'lexter0114', 1701, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,Nxe5,Qe7,Nd3,Qxe4+,Qe2,Qxe2+,Kxe2,Bf5,Re1,O-O-O,Ne5,Be6,Kf1,Ng4,Nxg4,Bxg4,Nc3,Bd6,d3,Rde8,g3', 'Bh3+,Kg1,Rxe1#', 'https://lichess.org/training/MsPe8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mSqKY', 'Classical', 'thedeathchess', 1714, 'radicalnonsense', 1634, 'e4,c5,Bc4,Nc6,c3,e6,d4,cxd4,cxd4,a6,d5,exd5,Qxd5,Qa5+,Bd2,Qxd5,Bxd5,Nf6,Bxc6,dxc6,f3,Bc5,Nc3,b5,O-O-O,Bd4,Nge2,Bb6,Bg5,Nd7,Rd3,Ne5,Rd2,f6,Bf4,g5,Bxe5,fxe5,Kb1,Ke7,Ng3,Be6,Rhd1,Bd4,Nce2,c5,Nf5+,Bxf5,exf5,b4,Re1,a5,Nxd4,cxd4,Rxd4,Kf6,Rd5,Rhe8,g4,a4,Rd6+,Kf7,Red1,Ra7,Rb6,b3,axb3,axb3,Rxb3,Rea8,Rdd3,Ra1+,Kc2,Rh1,Rd2,Rc8+,Rc3,Ra8,Rc7+,Kg8,f6,Rf1,Rcd7,Rc8+,Kb3,Rxf3+,Kb4,Rxf6,Kb5,Rb8+,Kc5,Re6,Kd5,Ree8,Ke4,h6,h3,Rb4+,Kf5,Rf4+,Kg6,e4,Kxh6,e3,Re2,Rf2,Re1,Rxb2,Kxg5,Re6,h4,Rg2,h5,Re5+,Kf6,Re4,g5', 'Rf2+,Kg6,Re6#', 'https://lichess.org/training/mSqKY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MsR7m', 'Classical', 'TanyaLedi83u', 1605, 'randomra', 1719, 'e4,e5,Nf3,f5,Nc3,fxe4,Nxe4,d5,Nxe5,dxe4,Qh5+,g6,Nxg6,Nf6,Nxh8+,Nxh5,Be2,Nf4,d3,Nxg2+,Kf1,Bh3,Bh5+,Kd7,Ke2,Bd6,Nf7,Qf6,Bg5,Nf4+,Kd2,Qxb2,Rab1,Bb4+,Ke3,Ng2+,Kxe4,Qxc2,Ne5+,Kc8,Rxb4,b5,Rc1,Qxa2,Nf7,Qe6+,Kf3,Qd5+,Kg3,Qxd3+,f3,Nc6,Rxc6,Bd7,Nd6+,Qxd6+,Rxd6,cxd6,Kxg2,a5,Rb2,a4,Rc2+,Kb7,Be3,a3,Bd4,a2,f4,a1=Q,Bf3+,Kb8,Bxa1,Rxa1,Bd5,b4,Rb2,Ra4,Kg3,Kc7,Kh4,Kb6,Kg5,Kc5,Bb3,Ra3,f5,Bxf5,Kxf5,Kd4,h4', 'Kc3,Rb1,Rxb3', 'https://lichess.org/training/MsR7m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mSrwX', 'Blitz', 'antichesser1900', 1557, 'emflores', 1534, 'd4,Nf6,Bg5,e6,e4,Be7,e5,Nd5,Bxe7,Qxe7,Nf3,O-O,Bc4,d6,O-O,Nb6,exd6,Qxd6,Bb3,Nd5,c4,Nf4,c5,Qd8,Qd2,Qf6,Nc3,b6,d5,Bb7,c6,Nxc6,dxc6,Bxc6,Bd1,Rad8,Qc2,Rxd1,Raxd1,Bxf3,gxf3', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/mSrwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MsRXB', 'Rapid', 'hiihigh', 1984, 'ibrahim__42', 1906, 'd4,d5,c4,e6,Nf3,c6,e3,Ne7,Bd3,Ng6,O-O,Nd7,Nc3,Be7,Qc2,O-O,b3,f5,Bb2,Nf6,Nd2,Ne4,f3,Nxd2,Qxd2,e5,cxd5,cxd5,Nxd5,exd4,Bxd4,Kh8,Bc4,Be6,Nxe7,Qxe7,Bxe6,Qxe6,Qb2,Qf7,Rac1,Rad8,Bxa7,Ne7,Bc5,Rfe8,Bd4,Nc6,Rfd1,Nxd4,Rxd4,Qe6,Rxd8,Qxe3+,Kh1,Rxd8,h3,h6,Rc7', 'Rd1+,Kh2,Qf4+', 'https://lichess.org/training/MsRXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('msSeg', 'Rapid', 'reireu', 1790, 'doctordrugoff', 1791, 'd4,Nf6,c4,d6,Nc3,g6,e4,Bg7,Nf3,Bg4,Be2,c6,O-O,O-O,b4,a5,Ba3,Na6,b5,cxb5,cxb5,Nb4,h3,Rc8,Rc1,Bd7,e5,Nfd5,Nxd5,Nxd5,exd6,exd6,Bxd6,Re8,Be5,f6,Bg3,Rxc1,Qxc1,Rxe2,Qc5,Ne7,Qc4+,Re6,d5,Nxd5,Qxd5,Kh8,Rd1,Re7,Bd6,Be6,Bxe7', 'Qxd5,Rxd5,Bxd5', 'https://lichess.org/training/msSeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MsTjV', 'Rapid', 'DivadLank', 2019, 'JackCcompi', 2009, 'e4,g6,d4,Bg7,Nf3,b6,Bc4,Bb7,Nc3,e6,e5,Ne7,Be3,O-O,Qd2,d5,Bd3,Nf5,Bg5,Qd7,h4,Nc6,Bxf5,exf5,h5,Rfe8,O-O-O,Na5,hxg6,fxg6,Bf6,Bf8,Ng5,h5,e6,Rxe6,Nxe6,Qxe6,Qg5,Kf7,Rde1', 'Qxf6,Qxf6+,Kxf6', 'https://lichess.org/training/MsTjV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MsTqt', 'Rapid', 'MouseSlip', 1780, 'takin6', 1765, 'e4,e6,d3,c5,Nd2,Nc6,Ngf3,a6,g3,Nf6,Bg2,b5,O-O,Bb7,Nb3,Qc7,Nxc5,Bxc5,d4,Ba7,e5,Ng4,h3,Ngxe5,dxe5,Nxe5,Bf4,f6,Re1,g5,Nxe5,gxf4,Bxb7,Qxb7,Qh5+,Kd8,Nf7+,Kc7,Nxh8,Rxh8,g4,Qf3,Qh4,Rg8,Rad1,h5,Rd3,Qc6,Rc3,Bc5,b4', 'Bxf2+,Qxf2,Qxc3', 'https://lichess.org/training/MsTqt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('msUCM', 'Rapid', 'Ludgero', 1741, 'Yarmouk-Mohammad', 1669, 'e4,c5,Bc4,e6,d4,cxd4,Qxd4,Nc6,Qd1,Qc7,Bd3,Nf6,Nc3,Bb4,Bd2,a6,Nf3,O-O,O-O,d5,e5,Nxe5,Bf4,Nxf3+,Qxf3,e5,Bg3,Bxc3,bxc3,Qxc3', 'Bxh7+,Nxh7,Qxc3', 'https://lichess.org/training/msUCM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MSUDT', 'Blitz', 'ettourab', 1874, 'wrapper554', 1903, 'd4,c6,c4,d5,Nc3,Nf6,Bg5,Ne4,Nxe4,dxe4,e3,Qa5+,Qd2,Qxg5,Ne2,e5,O-O-O,Bg4,dxe5,Bxe2,Bxe2,Bc5,h4,Qe7,f4,O-O,h5,Na6,h6,g6,a3,Rad8,Qc3,f6,Rxd8,Qxd8,e6,Qb6,e7,Bxe3+,Kb1,Re8,Qxf6,Qd4,Qe6+,Kh8,Rd1,Qc5,Qf7,Qxe7', 'Qxe7,Rxe7,Rd8+,Re8,Rxe8#', 'https://lichess.org/training/MSUDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mSUsW', 'Rapid', 'paololucca', 1819, 'patlasha', 1890, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,g3,Bb4+,Bd2,Bg4,Bg2,Qe7,O-O,O-O-O,a3,Bxd2,Qxd2,Nxe5,Nxe5,Qxe5,Qb4,c6,h3,Bxe2,Re1,Nf6,Bf3,d3,Nd2,Rhe8,Qc3,Qg5,b4,Kb8,b5,cxb5,cxb5,Rc8,Qb4,Nd5,Qd6+,Nc7,Bxe2,Rxe2,Qxd3,Qxd2', 'Qxe2,Qxe2,Rxe2', 'https://lichess.org/training/mSUsW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MsVr6', 'Rapid', 'jetztaber', 1935, 'aguileragustav0', 1947, 'e4,b6,d4,Bb7,Bd3,Nf6,f3,e6,Ne2,c5,Be3,Nc6,O-O,Nb4,Nbc3,Nxd3,Qxd3,a5,Rae1,Ba6,Nb5,Be7,a4,Rc8,c4,h5,Bg5,Nh7,Bxe7,Qxe7,e5,h4,Nd6+,Kd8,Nxc8,Kxc8,d5,Ng5,f4,h3,fxg5,hxg2,Rf2,Qxg5,Rxg2,Qh4,Rc1,exd5,b3,dxc4,bxc4,Bb7,Rf2,Qg5+,Kf1,Qxe5,Nf4', 'Rxh2,Rxh2,Qxf4+', 'https://lichess.org/training/MsVr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mSwpY', 'Classical', 'ForMeriane', 1787, 'THE_STAPLER', 1860, 'e4,e6,e5,d5,exd6,cxd6,Nf3,Nf6,b3,g6,Bb2,Bg7,Be2,O-O,O-O,Nc6,Nc3,b6,Rb1,Bb7,d4,Re8,Re1,Ne7,a3,Nf5,Ba1,Qc7,Nb5,Qc6,Nc3,Nh5,Bb5,Qc7,Bxe8,Rxe8,d5', 'Bxc3,Bxc3,Qxc3', 'https://lichess.org/training/mSwpY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('msYgw', 'Blitz', 'ElGordito123', 2484, 'FM Hayk_Yeritsyann', 2454, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,e5,d3,Bc5,Be2,O-O,O-O,h6,Nc3,Bf5,a3,a6,h3,Qe7,b4,Ba7,b5,Nd4,Nxd4,Bxd4,Bd2,Rad8,Qc2,e4,dxe4,Nxe4,Nd5,Rxd5,cxd5,Ng3,Bd3,Rc8,Qb3,Nxf1,Rxf1,Bxd3,Qxd3,Bc5,a4,Bd6,Re1,Qf6,bxa6,bxa6,Be3,Qe5,g3,Qh5,Kg2,Re8,Rd1,Qe5,Rd2,Qa1,Qxa6,Qb1,Qb5,Qe4+,Kg1,Rc8,Rd1,h5,Qd3,Qf3,h4,Bxg3,fxg3,Qxg3+,Kf1,Qf3+,Bf2,Qh1+,Ke2,Re8+,Kd2,Qg2,Qg3', 'Qxd5+,Qd3,Qa2+', 'https://lichess.org/training/msYgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MSZgA', 'Rapid', 'Ivan-Mikhalich', 1825, 'Tomgol1274', 1815, 'd4,c5,dxc5,e6,b4,a5,c3,axb4,cxb4,Nc6,Bd2,b6,b5,Nd4,Be3,bxc5,Bxd4,cxd4,Qxd4,Qa5+,Nc3,Bb4,Rc1,Bxc3+,Qxc3,Qxb5,Qxg7,Qb4+,Kd1,Qd6+,Ke1,Rxa2', 'Rxc8+,Ke7,Qf8+,Kf6,Qxd6', 'https://lichess.org/training/MSZgA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mt16v', 'Rapid', 'Motobecane', 2017, 'B70536380ANA', 1906, 'd4,e6,c4,f5,Nc3,Nf6,Bg5,d6,e4,fxe4,Nxe4,Nbd7,Qf3,Be7,Nxf6+,Nxf6,Bxf6,Bxf6,Qh5+,g6,Qh6,Bxd4,Bd3,Qf6,Nf3,Bxb2,Rb1,Bc3+,Kf1,Qg7,Qe3,Bf6,h4,O-O,h5,d5,hxg6,hxg6,cxd5,exd5,Rb4,c6,Nh4,a5,Rf4,Bf5,Nxf5,gxf5,Bxf5,Rfe8,Qh3,Kf8,Bd7,Re7,Qh8+,Qxh8,Rxh8+,Kg7,Rxa8,Rxd7,Rxa5,Re7,Rb4', 'Bc3,Rxb7,Rxb7', 'https://lichess.org/training/Mt16v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mt1nM', 'Blitz', 'Salmanazam', 1973, 'gkra', 1981, 'd4,Nf6,c4,c6,Nc3,d5,Nf3,e6,e3,Be7,Bd3,O-O,O-O,dxc4,Bxc4,b5,Bd3,Nbd7,e4,a6,e5,Nd5,Ne4,c5,Bg5,Bxg5,Nfxg5,cxd4,Nxh7,Nxe5,Qh5,Nxd3,Nhg5,Nf6', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/Mt1nM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MT2Ty', 'Rapid', 'repeatfinale', 1777, 'senasampaio', 1778, 'e4,d5,exd5,Qxd5,Nf3,Qd8,Nc3,e6,d4,Nf6,Bg5,Be7,h4,O-O,Bd3,Nc6,Qd2,Nd5,Nxd5,Qxd5,c4,Qd7,a3,f6,Bf4,e5,dxe5,fxe5,Nxe5,Qe6,Qe3,Nxe5,Qxe5', 'Rxf4,Qxe6+,Bxe6', 'https://lichess.org/training/MT2Ty');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mT33q', 'Rapid', 'Vitalylim', 1901, 'Zaychik13', 1863, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,Bg4,Be2,Bxe2,Ngxe2,Nc6,O-O,O-O-O,Ne4,Qd5,N2c3,Qxd4,Qe1,Nxe4,Nxe4,f5,Ng5,Qxd2,Nf7,Qxc2', 'Qe6+,Kb8,Nxd8', 'https://lichess.org/training/mT33q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mt4f8', 'Rapid', 'ntevans', 1706, 'KraahS', 1666, 'd4,Nf6,Bf4,c5,e3,d5,Nf3,cxd4,exd4,Bf5,c3,e6,Nbd2,Nc6,Bb5,a6,Be2,Be7,Nh4,Be4,Nxe4,dxe4,f3,Nd5,Bg3,Bxh4,fxe4,Ne3,Qd3,Bxg3+,hxg3,Qg5,Kf2,Ng4+,Ke1,Ne3,Kf2,Ng4+,Ke1,Rd8,Rh4,Nce5,Qd2,Ne3,Kf2,N3g4+,Ke1,Ne3,Kf2,b5', 'Qxe3,Qxe3+,Kxe3', 'https://lichess.org/training/Mt4f8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mt4TG', 'Rapid', 'FM Matesote', 2073, 'FM hectorluis2019', 2286, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bb5,Bb4,O-O,d6,d3,O-O,Bg5,Bxc3,bxc3,Qe7,Bxc6,bxc6,Rb1,Kh8,Nd2,h6,Bh4,g5,Bg3,Rg8,c4,h5,h3,h4,Bh2,g4,hxg4,Bxg4,Qe1,Bh3,f4,Rxg2+,Kh1,Ng4,Bg1,exf4,Rxf4,Qe5', 'Qxh4+,Kg7,Qxh3', 'https://lichess.org/training/mt4TG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MT7Lb', 'Rapid', 'Rickenbaker64', 1763, 'waselt', 1855, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,d6,Rc1,Nbd7,e4,c5,d5,Qa5,a3,Bxc3+,bxc3,Qxa3,dxe6,fxe6,Qxd6,Nb6,Bxf6', 'Qxc1+,Qd1,Qxd1+', 'https://lichess.org/training/MT7Lb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mt7Ti', 'Rapid', 'djgr887', 1743, 'h4nz2', 1701, 'd4,Nf6,Nf3,e6,c4,d5,Nc3,c5,e3,cxd4,Nxd4,Bb4,Bd2,O-O,cxd5,Nxd5,Nxd5,Bxd2+,Qxd2,Qxd5,Nf3,Qxd2+,Nxd2,Nd7,O-O-O,b6,Bb5,Nc5,Rhe1,Bb7,g3,Rac8,Kb1,Rfd8,Nf1,Ne4,Rxd8+,Rxd8,f4,Rc8,Be2,Bd5,a3,Kf8,Rc1', 'Ba2+,Kxa2,Rxc1', 'https://lichess.org/training/Mt7Ti');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mt80w', 'Rapid', 'mehrdad6698', 1673, 'chess_uNcertainty', 1614, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bc5,Nxe5,Nxe5,d4,Ng6,dxc5,c6,Bc4,b5,Bb3,a5,e5,Nxe5,Qe2,Qe7,O-O,a4,Re1,axb3,Qxe5,Qxe5,Rxe5+,Kd8,cxb3,Re8,Rxe8+,Nxe8,Bg5+,f6,Bh4,Nc7,Ne4,Ne6,b4,Ke7,a3,g5,Bg3,h6,Nd6,Ba6,Nf5+,Kf7,Nxh6+,Kg6,Ng4,Rd8,Re1,Re8,f4,Ng7,Rxe8,Nxe8,fxg5,Kxg5,Ne3,f5,h4+,Kg6,Be1,f4,Ng4,d6,cxd6,Nxd6,Ne5+,Kh5,Nxc6,Bb7,Ne5,Nf5,g4+,fxg3,Nf3', 'Bxf3,Bxg3,Nxg3,Kf2,Kg4', 'https://lichess.org/training/Mt80w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MT9Nb', 'Rapid', 'venegeance', 1950, 'kgabo', 1780, 'e4,e5,f4,exf4,Nf3,Nf6,Nc3,d6,d4,Nh5,Bc4,Bg4,O-O,Be7,h3,Bd7,Nh2,Ng3,Rxf4,O-O,Rxf7,Rxf7,Bxf7+,Kxf7,Qf3+,Nf5,exf5,Kg8,Nd5,Bc6,Nxe7+,Qxe7,d5,Bd7,Bd2,c6,Re1,Qf7,dxc6,Bxc6,Qe2,Nd7,Qe6,Ne5,Qxf7+,Kxf7,Bc3,a5,Bxe5,dxe5,Rxe5,Kf6,Rc5,Rd8,h4,Rd1+,Kf2,Rd2+,Ke3,Rxg2,Nf3', 'Rg3,Rxc6+,bxc6', 'https://lichess.org/training/MT9Nb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MTalx', 'Blitz', 'friendlynoob', 2496, 'GM jdrc', 2592, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,O-O-O,Nxd4,Bxd4,Be6,Kb1,Qc7,h4,Rfc8,h5,Qa5,a3,Rab8,hxg6,fxg6,g4,b5,g5,Nh5,Bxg7,Kxg7,f4,b4,Nd5,Bxd5,exd5,Qc5,a4,Nxf4,Ba6,Qc3,Bxc8,Qxd2,Rxd2,Rxc8,Rf1,Nh3,Rg2,Rc4,Rf3,Rh4,Rh2,Nxg5,Rxh4,Nxf3,Rxb4,h5,Rf4,Ne5,b4,g5,Rf1,h4,b5,h3,a5,Nc4,b6,axb6,a6', 'Nd2+,Kb2,Nxf1', 'https://lichess.org/training/MTalx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mtbuh', 'Rapid', 'andrei70ster', 2113, 'Tomberg_Dmitry', 2210, 'c4,e5,Nc3,d6,Nf3,Nf6,g3,Be7,Bg2,O-O,O-O,Nc6,b3,Nd4,e3,Nxf3+,Qxf3,c6,h3,Re8,d4,exd4,exd4,h6,d5,c5,Bb2,a6,Rfe1,Bd7,Bf1,Rb8,a4,Qc8,Kh2,Bf5,Rac1,Qd7,Ne2,b5,Qc3,bxa4,bxa4,Qxa4,Ba1,Qb3,Qd2,Bh7,Qf4,Qd3,Nd4,Qg6,Nc6,Rb7,Nxe7+,Rbxe7,Rxe7,Rxe7,Qxd6', 'Ng4+,hxg4,Qxd6', 'https://lichess.org/training/Mtbuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mTdv1', 'Blitz', 'tejubin', 1931, 'TwanNL', 1901, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,d6,Nf3,Nc6,Bc4,e6,O-O,Be7,Bxd5,exd5,Bf4,O-O,Nc3,dxe5,Nxe5,Nxe5,Bxe5,Be6,Qb3,b6,Rac1,Rc8,Nb5,a6,Na7,Ra8,Rc7,Bf6,Nc6,Qe8,Bxf6,gxf6,Qxb6,Rb8,Nxb8,Qxb8,Rb7,Qc8,Qxa6,Kh8,a4,Rg8,Kh1,Rg6,Qb6,Bh3,Rg1', 'Bxg2+,Rxg2,Qc1+,Rg1,Qxg1#', 'https://lichess.org/training/mTdv1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mtdvu', 'Rapid', 'gwiazdabojowa', 1914, 'Tupy', 1878, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,f4,c5,Nf3,Nc6,Bd3,cxd4,Nb5,Qb4+,c3,dxc3,bxc3,Qa5,O-O,O-O,Bxh7+,Kxh7,Ng5+,Kg6,Qd3+,f5,Qh3,Nf6,exf6,Kxf6,Nh7+,Ke7,Qh4+,Rf6,Nxf6,Qxb5,Nxd5+,Kf7,Qh5+,Kg8,Qe8+,Kh7,Qh5+,Kg8,Nb4,Nxb4,cxb4,Qxb4,Qe8+,Kh7,Rac1,Qd4+,Kh1,Qd7,Qxd7,Bxd7,Rfd1,Bc6,Kg1,Kg6,Kf2,Kf6,g3,a5,Rd2,a4,Ke3,Ra5,Kd4,Rd5+,Kc3', 'Rc5+,Kb2,a3+,Kxa3,Rxc1', 'https://lichess.org/training/mtdvu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MteA1', 'Blitz', 'JustKiddings', 1652, 'sinodAzA', 1704, 'd4,Nf6,Bf4,d5,Nf3,Nc6,e3,a6,Bd3,Bg4,h3,Bh5,O-O,Ne4,c3,e6,Be2,Bd6,Bxd6,Qxd6,Nbd2,O-O,Nxe4,dxe4,Ng5,Bxe2,Qxe2,f5,Qh5,h6,f4,hxg5,fxg5,e5', 'g6,Rf6,Qh7+,Kf8,Qh8+', 'https://lichess.org/training/MteA1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MtFZY', 'Rapid', 'Supernik08', 2087, 'angry_bear100', 1749, 'Nf3,Nc6,c4,e5,Nc3,Nf6,e3,Bb4,Qc2,Bxc3,Qxc3,d6,d4,exd4,Nxd4,Nxd4,exd4,O-O,Be3,Bf5,Be2,d5,c5,c6,O-O,Re8,Bd3,Ne4,Bxe4,Bxe4,Bf4,Qf6,Be5,Qg6,f3,Bf5,b4,a6,a4,Bd7,Rab1,Re7,Rfe1,Rae8,Bd6,Re6,Rxe6', 'Qxb1+,Qe1,Qxe1+,Rxe1,Rxe1+', 'https://lichess.org/training/MtFZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MTgER', 'Rapid', 'Lord-St', 1914, 'lucioc84', 1984, 'Nf3,d5,d4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,O-O,c6,Re1,Nbd7,e4,dxe4,Nxe4,Nxe4,Rxe4,Nf6,Re1,Bf5,c3,Qd7,Ne5,Qc8,Bf4,Nd5,Bd2,Bh3,Qc1,Bxg2,Kxg2,e6,Bh6,c5,Bxg7,Kxg7,Ng4,cxd4,Qh6+,Kh8,cxd4,Qc6,Kg1,Qc2,b3,Qf5,h3,Nf6,Ne3,Qf3,Ng2,Qh5,Qf4,Nd5,Qe5+,Qxe5,dxe5,Rac8,Rac1,Nb4,a4,Nd3,Rxc8,Rxc8,Re3,Nc1,Ne1,Na2,Kg2,Nb4,Nd3,Nd5,Rf3,Rc3,Nb2,Rc2,Nc4,Kg7,Nd6,Rc7,h4,h5,Nc4,a6,Nd6,b6', 'Ne8+,Kf8,Nxc7', 'https://lichess.org/training/MTgER');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mTGx4', 'Classical', 'chess431', 1741, 'pollystina', 1816, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Qe2,Bf5,Bb3,Be7,Qb5+,Bd7,Qxd5,Nd6,Ne5,Be6,Ba4+,c6,Qf3,Bf6,d4,Bd5,Qg3,Ne4,Qe3,Qa5+,Nc3,Bxe5,dxe5', 'Nxc3,Qxc3,Qxa4', 'https://lichess.org/training/mTGx4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MtH0l', 'Blitz', 'Fabiano_Caruana_1', 1851, 'ChessApolloCreed', 1995, 'd4,Nf6,e3,e6,Nf3,Be7,Be2,b6,O-O,Bb7,b3,d6,Bb2,Nbd7,Nbd2,O-O,c4,Re8,d5,Bf8,dxe6,fxe6,Nd4,g6,Bg4,e5,Ne6,Qe7,Nxc7,Rac8,Nxe8,Rxe8,Bf3,e4,Be2,Ne5,Bxe5,Qxe5,Qc2,Bc8,g3,Bg7,Rfe1,h5,Rac1,Kf7,Bf1,Rh8,Bg2,h4,Nxe4,hxg3,fxg3,Qh5,h4,Qg4,Kh2,Rxh4+,gxh4,Qxh4+,Kg1,Ng4,Nxd6+,Kg8,Bd5+,Kh7,Qg2,Be5,Nxc8,Bh2+,Kf1,Qf6+,Ke2,Qb2+,Kf3,Qf6+,Kxg4', 'Qf5+,Kh4,Qh5#', 'https://lichess.org/training/MtH0l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mTh7m', 'Rapid', 'Lazy-Chess', 1766, 'dfarchich', 1726, 'e4,Nc6,d4,d6,d5,Ne5,Nf3,Bg4,Be2,Nd7,h3,Bh5,Nd4,Bxe2,Qxe2,Ngf6,O-O,Ne5,Nf3,Ned7,c3,c6,e5,dxe5,Nxe5,Nxe5,Qxe5,cxd5,Bg5,e6,Bxf6,gxf6,Qe3,Bg7,Nd2,O-O,Nf3,Qd7,Nd4,a6,Qg3,Kh8,h4,Rg8,Qf3,f5,Ne2,Qb5,Rab1,Qa4,a3,Qxh4,g3,Qg4,Qxg4,fxg4,Nf4,Be5,Kg2,Bxf4,gxf4,f5,Kg3,h5,Rh1,Rg7,Rbe1,Re8,Rxh5+,Rh7,Rg5,Rh6,Rxf5,Rh3+,Kxg4', 'exf5+,Kxh3,Rxe1', 'https://lichess.org/training/mTh7m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MtHtp', 'Classical', 'pepeshow', 1859, 'LegendOfpawns', 1920, 'Nf3,d5,d4,c5,e3,e6,c4,cxd4,exd4,dxc4,Nc3,Nf6,Be3,Bd7,a3,b5,Ne5,a6,Qf3,Ra7,d5,Qc7,Nxd7,Nbxd7,Bxa7,Qxa7,dxe6,fxe6,Be2,Bd6,Rd1,Bc7,Qc6,O-O,Rxd7,Nxd7,Qxd7', 'Qxf2+,Kd1,Rd8,Qxd8+,Bxd8', 'https://lichess.org/training/MtHtp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mThvr', 'Rapid', 'umaia', 1856, 'Kidscoach', 1806, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c3,Bg7,Nxc6,bxc6,Bc4,Nf6,e5,Ng8,Qf3,e6,Bf4,Rb8,Nd2,Qc7,Qe3,Ne7,g4,Rxb2,Bb3,Nd5,Qg3,Nxf4,Nc4,Re2+,Kf1,Bxe5,Qf3,Ba6,Kg1,Bxc4,Bxc4,Rc2,Re1,Rxc3,Qe4,Rxc4,Qxc4,Nh3+,Kg2,Nf4+,Kf3,d5,Qb4,Nd3,Qa3,Nxe1+,Rxe1,Bd6,Qe3,O-O,h4,e5,h5,gxh5,Qg5+,Kh8,Qf6+,Kg8,gxh5,e4+,Ke2,Bg3,Rg1,Qb8,h6,Qb5+,Kd2,Qd3+,Kc1,Qa3+,Kd1,Qd3+,Ke1,Qe3+,Kf1,Qd3+,Kg2,Qf3+,Qxf3,exf3+,Kxg3,f5,Kxf3+,Kf7,Rg7+,Kf6,Rxh7,Rf7,Rh8,Kg6,Kf4,Rh7,Rc8,Rxh6', 'Rxc6+,Kg7,Rxh6,Kxh6,Kxf5', 'https://lichess.org/training/mThvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MtI99', 'Classical', 'AvtomatKalashnikova', 1966, 'Sevan-94', 1850, 'e4,e5,Nf3,Nc6,Nc3,Bb4,Nd5,Ba5,c3,d6,d4,Bg4,Bb5,Ne7,O-O,a6,Ba4,b5,Bc2,exd4,cxd4,Nb4,Nxb4,Bxb4,h3,Bh5,g4,Bg6,Nh4,O-O,f4,f6,Nxg6,Nxg6,e5,Ne7,e6,d5,f5,Qd6,Bf4,Qb6,Bb3,Bd6,Qd2,a5,Rac1,a4,Bd1,b4,Bxd6,Qxd6,Qf4,Qxf4,Rxf4,c6,Rf2,Rfb8,h4,b3,a3,Rf8,Bf3,g6,fxg6,hxg6,Bg2,Kg7,Rf3,Kh6,Rcf1,Kg7,g5,fxg5', 'Rf7+,Kg8,Rxe7', 'https://lichess.org/training/MtI99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MtIK8', 'Classical', 'MetrineBoke', 1602, 'Sergio78Sergio', 1618, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,d6,d3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,O-O,Be3,a6,a3,Ne6,Bxe6,fxe6,Bg5,h6,Bh4,c6,Na4,Qa5,b3,b5,Nxc5,dxc5,Qc1,Qc3,Re1,Qd4,Bg3,Nh5,Kh1,Nxg3+,fxg3,Rf2,Rf1,Raf8,Rxf2,Rxf2,Qe1,Rxc2,Rc1,Ra2,Qa5,Qf2,Rg1,Qb2,Qxa6,Qxb3,Qxc6,Qxd3', 'Qxe6+,Kh8,Qxa2', 'https://lichess.org/training/MtIK8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mtkDG', 'Blitz', 'NM Serog1sPerog1s', 2537, 'NM Pliukha_Mikhail', 2529, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Ne5,Nc6,Bb5,Bd7,Nxd7,Qxd7,c3,e6,Nd2,Bd6,Nf3,O-O,O-O,a6,Bd3,b5,Qe2,Rfe8,Ne5,Qc7,f4,b4,Bd2,bxc3,bxc3,a5,Nxc6,Qxc6,Bb5,Qc7,Bxe8,Rxe8,Rac1,Rc8,f5,Ne4,fxe6', 'Bxh2+,Kh1,Ng3+,Kxh2,Nxe2+', 'https://lichess.org/training/mtkDG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MTLbz', 'Blitz', 'Jay_1999', 1932, 'anangdardi', 1959, 'Nf3,g6,d4,Bg7,c4,Nf6,Nc3,O-O,e4,d6,Bd3,e5,d5,Nbd7,b4,a6,a4,Ne8,Bg5,f6,Bh4,Bh6,O-O,Ng7,Ne2,Qe8,h3,f5,exf5,gxf5,Ng5,Bxg5,Bxg5,Nf6,Ng3,Qg6,Qd2,Bd7,Rfe1,Rae8,f3,Nfh5,Nxh5,Nxh5,Bh4,h6,c5,Nf4,Bf1,Nxh3+,Kh2,Nf4,g3,Nh5,Ra2,Rf7,Bd3,Ref8,Rg1,Kh8,Qe3,Rg7,Rag2,Nf6,Bxf6,Rxf6,g4,f4,Bxg6,fxe3,Bh5,Rxf3,Re2,Rg8,Rgg2,Rgf8,cxd6,cxd6,Kg1,Bxa4,g5,hxg5,Bxf3,Rxf3,Rxg5,Bb5', 'Rh2+,Rh3,Rxh3#', 'https://lichess.org/training/MTLbz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MtmpL', 'Classical', 'talal-alzaeem', 1930, 'cboulos', 1733, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,O-O,Bd3,c6,Qc2,Nbd7,Nf3,Re8,O-O,Nf8,h3,g6,Rab1,Ne6,Bh4,Ng7,b4,a6,Na4,Nf5,Bg5,Ne4,Bxe7,Qxe7,Bxe4,dxe4,Nd2,Nh4,Qc5,Qf6,Nc3,Bf5,Ne2,Rad8,Ng3,Rd5,Qc2,Qg5,Kh2,Rxd4,exd4,e3,Qb2,exd2,f4,Nf3+,Rxf3,Bxb1,fxg5,d1=Q,Rf1,Re1,Qf2,Rxf1,Nxf1,Bxa2,Qf4,Bd5,Qb8+,Kg7,Qe5+,Kg8,Qb8+,Kg7,Qe5+,Kg8,Ne3,Qe2', 'Qe8+,Kg7,Nf5+,gxf5,Qxe2', 'https://lichess.org/training/MtmpL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mtnr8', 'Blitz', 'IaGueTe', 1921, 'Tacticianchess', 1912, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,dxc4,a4,Bf5,e3,e6,Bxc4,Nbd7,O-O,Bb4,Qe2,Bg4,e4,Nb6,d5,Bxf3,gxf3,Bxc3,dxe6,Bb4,exf7+,Kf8,Rd1,Qe7,Bb3,a5,Bg5,h6,Bh4,g5,Bg3,Kg7,h4,Rad8,hxg5,hxg5,Qe3,Rxd1+,Rxd1,Nbd7,Qxg5+,Kf8,Bf4,Rh5,Qg3,Ne5,Bd2,Bxd2', 'Qg8+,Nxg8,fxg8=Q#', 'https://lichess.org/training/mtnr8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MTOmQ', 'Rapid', 'Jijxar', 2032, 'A_Running_Kidling', 1995, 'd4,d5,Bf4,Bf5,e3,e6,Bd3,Bxd3,Qxd3,c5,c3,Nc6,Nd2,Nf6,Ngf3,Qb6,b3,cxd4,Nxd4,Nxd4,cxd4,Bb4,O-O,O-O,Nf3,h6,Be5,Ne4,Nh4,f6,Bg3,Rac8,Rfc1,Rc6,a3,Rxc1+,Rxc1,Bxa3,Ra1,Bb4,f3,Nxg3,hxg3,f5,Ng6,Rf7,Ne5,Rc7,g4,Rc3,Qe2,Bd6,gxf5,Bxe5,dxe5,Rxe3,Qf2,Rxe5,Qxb6,axb6,fxe6,Rxe6,Ra8+,Kh7,Rb8,Rd6,Rxb7,d4,Kf2,d3,Ke1,d2+,Kd1,Kg6,Rc7,h5,Rc2,Rd3,Rc6+,Kg5,Rxb6,Kf4,Rc6,Kg3,b4,Kxg2,b5,Rb3,b6,Kxf3,Kxd2,g5', 'Rc3+,Rxc3,Kxc3,g4,b7,g3,b8=Q', 'https://lichess.org/training/MTOmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mtp6q', 'Rapid', 'sergei197', 2127, 'GrandLapin', 2362, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,h3,Nf6,Bd3,O-O,O-O,Re8,Re1,Be6,Nbd2,c5,dxc5,Bxc5,c3,Nc6,Nb3,Bb6,Nbd4,Qd7,Nxe6,Rxe6,Rxe6,Qxe6,Bf4,Ne4,Bxe4,Qxe4,Qd2,h6,Re1,Qf5,Be3,Bc7,Bd4,b5,a3,a5,Re2,Bd6,Qe1,Kh7,Qd2,b4,cxb4,axb4,Qc2,Qxc2,Rxc2,bxa3,Rxc6', 'a2,Rxd6,a1=Q+', 'https://lichess.org/training/mtp6q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mTpBr', 'Rapid', 'angelox21', 1750, 'santig8', 1631, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Bd2,Qxb2,Bc3,Qb6,e3,Bb4,Bd3,Bxc3+,Nxc3,Qb2,Nd5,Nxe5,Nxc7+,Kd8,Nxe5,Qxe5,Nxa8,Nf6,Rb1,Qb8,Nb6,axb6,Rxb6,Qc7,Rb2', 'Qc3+,Qd2,Qxb2', 'https://lichess.org/training/mTpBr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mtpsx', 'Rapid', 'Paulzarberg', 1895, 'plota', 1835, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bd3,Be7,O-O,Nbd7,Re1,O-O,Nc3,a6,g3,Nb6,Nf5,Re8,Nxe7+,Qxe7,Be3,Be6,Bxb6,cxb6,a4,Qd7,b3,Rac8,Qd2,Qc6,Nd5,Nxd5,exd5,Bxd5,Rxe8+,Rxe8,Re1,Bh1', 'Rxe8+,Qxe8,Kxh1', 'https://lichess.org/training/Mtpsx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mtQDd', 'Rapid', 'alex5406', 1871, 'lenoach', 1948, 'd4,d5,c4,Nf6,Nc3,e6,e3,b6,Nf3,Bb7,Bd3,Be7,O-O,O-O,Re1,Nbd7,e4,Bb4,cxd5,Bxc3,bxc3,exd5,exd5,Nxd5,c4,N5f6,Bg5,h6,Bh4,Re8,Qb3,Bxf3,gxf3,c6,d5,cxd5,cxd5,Qc7,Bc4,Qd6,Bg3,Qc5,Rad1,Rac8,Rc1', 'Rxe1+,Rxe1,Qxc4,Qxc4,Rxc4', 'https://lichess.org/training/mtQDd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MTQqI', 'Rapid', 'K_Vince_ELTER', 1761, 'schmelowszkydavid', 1755, 'e4,e5,Nf3,Nc6,Nc3,Bb4,Bb5,Bxc3,dxc3,Nf6,Qd3,O-O,Bxc6,bxc6,Bg5,h6,Bxf6,Qxf6,O-O,d6,h3,Rb8,b3,c5,c4,Rb4,a3,Rb7,a4,a5,Qc3,Ra7,Rad1,Ra6,Qd3,Qg6,Nh4,Qg5,Nf3,Qf6,c3,Qg6,Nh4,Qg5,Nf3,Qf6,Rde1,Rb6,Rb1,Ra6,Rbc1,Bb7,Rb1,Rb6,Rbc1,Bc8,Rb1,Qg6,Nh4,Qh5,Nf3,Qg6,Nh4,Qg5,Nf3,Qf6,Rbd1,Be6,Rb1,Qg6,b4,Bxh3', 'Nh4,Qh5,Qxh3', 'https://lichess.org/training/MTQqI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MtR1B', 'Classical', 'gross1987', 2211, 'PsoyKorolenko', 2251, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,Bg5,Be7,Bxf6,Bxf6,Nxd5,Bxb2,Rb1,Be5,Bxh7+,Kxh7,Qh5+,Kg8,Qxe5,Re8,Qh5,Be6,Ne3,Bxa2,Rb4,Re6,Qa5,Qe7,Rb7,Rxe3,fxe3,Qxe3+,Kh1,Qe2,Re1,Qf2,Rg1,Qxc2,Rxc7,Qf2,Ra1,Re8,Qxa7,Qd2,Qc5,Bd5,Rg1,Re2,Rc8+', 'Kh7,Qc2+,Qxc2,Rxc2,Rxc2', 'https://lichess.org/training/MtR1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mTsgi', 'Blitz', 'kjlong', 2127, 'SergeyMaksimovichCM', 1997, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Nc3,Bd7,Bc4,Nge7,Be3,g6,O-O,Bg7,f4,O-O,h3,Qc8,g4,Nxd4,Bxd4,Bxd4+,Qxd4,Bxg4,hxg4,Qxg4+,Kf2,Qxf4+,Ke2,Qg4+,Kd2,Nc6,Qe3,Ne5,Bd5,c6,Bb3,a5,Rf4,Qd7,a4,b5,axb5,cxb5,Nd5,Qd8,Nf6+,Kg7,Rg1,a4,Bd5,Rc8,Rf5,Qc7,Qh6+,Kxh6', 'Rh1+,Kg7,Rxh7#', 'https://lichess.org/training/mTsgi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MTsmz', 'Rapid', 'usay', 1721, 'radivojegacevic', 1750, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Nc6,Be3,Nxd4,Bxd4,d6,Nc3,e5,Be3,a6,Nd5,h6,Bb6,Qh4,Nc7+,Kd7,Nxa8,Qxe4+,Qe2,Qb4+,c3,Qa4,g3,Nf6,Bh3+,Ke7,O-O,Bxh3,Rfd1,g6,Nc7', 'Qc6,Nd5+,Nxd5', 'https://lichess.org/training/MTsmz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mtSrB', 'Blitz', 'xenocalamus', 1816, 'Applechess95', 1911, 'e4,c6,f4,d5,e5,Bf5,d4,Nh6,Nf3,e6,Bd3,Bg4,O-O,Be7,h3,Bxf3,Qxf3,c5,c3,Nc6,Be3,cxd4,cxd4,Qb6,Qf2,Rc8,Nc3,O-O,f5,Nxf5,Bxf5,exf5,Nxd5,Qd8,Nxe7+,Nxe7,Bg5,g6,Qh4,Re8,Bf6,h5,Qg5,Qxd4+,Kh1,Nd5,Rad1,Qc5,Rxd5,Qf8,Rfd1,Kh7,Rd8,Qb4,Rxe8,Rxe8,b3,Qe4,Rd8,Rxd8,Bxd8,Qe1+,Kh2,Qe4,Qg3,f4,Qf3,Qxe5,g3,g5,gxf4,gxf4,Bh4,Qb2+,Qf2,Qe5,Kg2,b6,Qc2+,f5,Bf2,Kg6,Qd2,Qe4+,Kf1,Kg5,h4+,Kg4,Qe2+,f3,Qxe4+,fxe4,Kg1,Kf4,Kf1,e3,Bg1,Ke4,Bh2,Kd3,Ke1', 'f2+,Kf1,e2+,Kxf2,Kd2,Bf4+,Kd1', 'https://lichess.org/training/mtSrB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MtsxU', 'Blitz', 'cardisco', 2242, 'SABIO70', 2042, 'd4,e6,c4,c5,Nf3,cxd4,Nxd4,Nc6,Nc3,Bb4,Nxc6,bxc6,e4,d6,Bd3,Nf6,O-O,O-O,Be3,Qc7,f4,Bxc3,bxc3,e5,f5,d5,Bg5,Nxe4,Bxe4,dxe4,f6,Rd8,Qe1,Qb6+,Kh1,g6,Qh4,Qc5,Rae1,Bf5,Bh6,Qxc4,Rxf5,Qxc3,Rg1,e3,Rf3,Rd4,Qh3,Rad8,Bg7,Rd1', 'Qxh7+,Kxh7,Rh3+,Kg8,Rh8#', 'https://lichess.org/training/MtsxU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mTT8p', 'Rapid', 'fishstone', 2040, 'sychesss', 2033, 'e4,e6,Nf3,d6,d4,Ne7,c4,Ng6,Nc3,Be7,Bd3,O-O,O-O,c5,d5,Ne5,Nxe5,dxe5,f4,exd5,fxe5,d4,Nd5,Nc6,Bf4,Bg5,Qh5,Bxf4,Rxf4,Be6,Raf1,Qb8,Rh4,h6,Nf6+,Kh8,Qxh6+,gxh6,Rxh6+,Kg7,Rh5,Nxe5,Rg5+,Ng6,h4,Kh6', 'Rh5+,Kg7,Rh7#', 'https://lichess.org/training/mTT8p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MtU9t', 'Blitz', 'FM fawolizzo', 2159, 'boolah229', 2109, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,f6,Ngf3,fxe5,fxe5,Nc6,Bd3,Be7,O-O,O-O,Qc2,h6,a3,cxd4,cxd4,Qb6,Bh7+,Kh8,Nb3,Ndxe5,Nxe5,Nxe5,Rxf8+,Bxf8,Qf2,Kxh7,Qxf8,Qxb3,dxe5,b6,Bxh6,gxh6,Qf7+,Kh8,Qf8+,Kh7,Rf1,Qe3+,Kh1,Qxe5,Rf7+,Kg6,Qg8+,Kh5,h3,Bb7', 'Qg4#', 'https://lichess.org/training/MtU9t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mTUGz', 'Rapid', 'alsoraidy87', 1949, 'briskett', 2008, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,Re1,Bg4,h3,Bh5,d3,Nc6,Nc3,d5,exd5,Nd4,Rxe5,Bxf3,gxf3,O-O,Be3,c5,dxc6,Nxc6,Rf5,Qd7,Rxf6,Bxf6,Kh2,Rfe8,f4,Nd4,Nd5,Kh8,c3,Nf5,Qf3,Bd8,Rg1,Qc6,Qg4,g6,Qxf5', 'gxf5,Bd4+,f6', 'https://lichess.org/training/mTUGz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MtvcW', 'Rapid', 'bodum', 1878, 'keselek_sendal', 1973, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nb6,Be2,g6,Nf3,Bg7,O-O,O-O,Nbd2,Bxd4,Nxd4,Qxd4,Rb1,Nc6,a3,Be6,b4,Rad8,Kh1,Ne5,Qc2,c6,Nf3,Nxf3,Bxf3,Bc4,Rd1,Qf6,Be3,Be6,Bc5,Nc8,Rxd8,Rxd8,Rd1,Rxd1+,Qxd1,b6', 'Qd8+,Kg7,Bd4,Qxd4,Qxd4+', 'https://lichess.org/training/MtvcW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mTvOo', 'Rapid', 'budikibo', 1586, 'utkarshvaish9919', 1687, 'e4,e5,Qh5,d6,Bc4,Qf6,d3,Nc6,Bg5,Qg6,Qxg6,hxg6,c3,Be7,Bxe7,Ngxe7,Nf3,f6,O-O,Bg4,Nbd2,O-O-O,h3,Bxf3,Nxf3,g5,b4,a6,a4,Ng6,Be6+,Kb8,g3,Rde8,Bf5,Nce7,Bg4,d5,Kg2,dxe4,dxe4,Rd8,h4,gxh4,gxh4,Nxh4+,Nxh4,Rxh4,Kg3,g5,f3,Rd3,Rac1,Ng8,Rfd1,Re3,Rd8+,Ka7,Rxg8,Re2,Bh3,Re3,c4,Rhxe4,Rd1,Rf4,Bg2,Rxc4,Rdd8,Rxb4,Ra8+,Kb6,Rg6,c6,Rxf6,Rxa4,Rg8,e4,Rxg5,exf3,Bxf3,Ra1,Kf4', 'Rxf3+,Kxf3,Rf1+,Ke4,Rxf6', 'https://lichess.org/training/mTvOo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MTwdc', 'Rapid', 'EgorPastuhov', 1712, 'GorbunovIvan35', 1755, 'e4,e6,d4,d5,exd5,exd5,c3,Nf6,Nf3,c6,Bg5,Be7,Bd3,Nbd7,O-O,O-O,Qc2,h6,Bh4,Re8,Re1,Nb6,Nbd2,Be6,Ne5,Ng4,Bxe7,Rxe7,h3,Nxe5,Rxe5,Nd7,Re2,Qb6,Rae1,Rae8,Nf3,Nf6,Bf5', 'Bxf5,Rxe7,Bxc2', 'https://lichess.org/training/MTwdc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mU2cn', 'Rapid', 'fazad234', 1658, 'Harlequins10', 1657, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,e6,a3,c6,d3,Nd5,Bxd5,cxd5,O-O,Bd6,Re1,O-O,Be3,Nd7,Qd2,a6,b4,Qc7,h3,b5,Ne2,Bb7,Bf4,e5,Bg3,Rac8,Rec1,Rfe8,Ra2,Nf6,Re1,Rcd8,d4,e4,Bxd6,Qxd6,Nh2,Re7,c3,Rde8,Ng3', 'e3,Rxe3,Rxe3,fxe3,Qxg3', 'https://lichess.org/training/mU2cn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mu2Vo', 'Rapid', 'Tigtre66', 2077, 'Poyraz-c', 2133, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Bg7,O-O,O-O,f4,Nc6,Be3,d5,Bb5,Nxd4,Bxd4,dxe4,h3,Bf5,g4,Bd7,g5,Bxb5,gxf6,Bxf6,Bxf6,Qxd1', 'Rfxd1,exf6,Nxb5', 'https://lichess.org/training/Mu2Vo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mU3Jt', 'Rapid', 'Rafat545', 1751, 'Sandwurm', 2121, 'c4,Nf6,Nc3,e6,Nf3,Bb4,a3,Bxc3,bxc3,O-O,g3,c5,Bg2,Nc6,d4,cxd4,cxd4,b6,O-O,Bb7,h3,Na5,Qc2,Rc8,c5,d6,Bb2,bxc5,dxc5,Rxc5,Qb1,Nc4', 'Bxf6,Qxf6,Qxb7', 'https://lichess.org/training/mU3Jt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mu3Y3', 'Blitz', 'NM Sidonya', 2367, 'GM Federtiu', 2634, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,a6,Be3,b5,Bd3,Bb7,Qd2,Nd7,a4,b4,Ne2,c5,c3,Ngf6,Ng3,Ng4,Bf4,bxc3,bxc3,cxd4,cxd4,e5,Be3,Nxe3,fxe3,O-O,O-O,Rc8,Rab1,Rc7,h4,Bh6,Qf2,Nf6,Rfe1,Ng4,Qd2,exd4,Nxd4,Qxh4,Nf1,Re8,Nf3,Qf6,Rb4,a5,Rd4,Ne5,N1h2,Rec8,Qxa5,Nxd3,Rxd3,Bxe4,Rd2,d5,Rf2,Rc1,Ng4,Qa1,Nxh6+,Kg7,Ng4', 'Bxf3,Rxf3,Rxe1+', 'https://lichess.org/training/mu3Y3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MU4gN', 'Classical', 'The-Chess-Bandit', 2023, 'matinmessi10', 1832, 'e4,Nf6,e5,Nd5,Nc3,Nxc3,dxc3,d6,Nf3,Bg4,exd6,cxd6,h3,Bd7,Be3,Nc6,Qd2,e6,Bd3,Be7,O-O-O,O-O,g4,e5,g5,Be6,a3,Qa5,Be4,Rfd8,Qd3,g6,Bd5,Bxd5,Qxd5,Qxd5,Rxd5,Rac8,h4,Bf8,Rhd1,b6,Nd2,Ne7,Rd3,Nf5,Ne4,Rc6,Nf6+,Kh8,h5,Nxe3,Rxe3,Be7,hxg6,fxg6,Red3,Bxf6,gxf6,Kg8,Rh1,Rc7,Rf3,Rf7,Kd2,Rdf8,Rfh3,Rxf6,Rxh7,Rxf2+,Ke3,R2f7,Rh8+,Kg7,R8h7+,Kf6,R7h6,Kg5,R6h3,Rf1', 'Rg3+,Kf6,Rxf1+', 'https://lichess.org/training/MU4gN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mu5MG', 'Rapid', 'JovanPavicevic', 2279, 'jovannedimasupil_07', 2296, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,h3,a6,Bf4,e6,Nf3,Bd6,Bxd6,Qxd6,O-O,O-O,c3,Nc6,Nbd2,e5,dxe5,Nxe5,Nxe5,Qxe5,Re1,Qd6,Nf3,b5,Nd4,Bd7,Qf3,Rfe8,a3,h6,Rad1,Re7,Rxe7,Qxe7,Qe2,Qd6,Re1,Re8,Qd2,Rxe1+,Qxe1,g6,Nf3,Kg7,Qe5,Qxe5,Nxe5,Be8,Nf3,Nd7,Nd4,Ne5,Be2,f5,f3,Nc4,Bxc4,bxc4,f4,Kf6,h4,g5,hxg5+,hxg5,g3,gxf4,gxf4,Bd7,Kf2,Be8,Nf3,Ke6,Ke3,Kd6,Kd4,Bh5,Nh4,Bg4,Ng2,Bf3,Ne3,Be4,Nd1,a5,Nf2,Bg2,Ke3,Be4,Nd1,Kc5,Nf2,Kb5,Kd2,Ka4,Nh3,Kb3,Kc1,d4,cxd4,c3,bxc3,Kxc3,Ng5,Kxd4,Kd2,Bd5,Nh7,Ke4,Nf6+,Kd4,Nxd5', 'Kxd5,Ke3,Kc4', 'https://lichess.org/training/Mu5MG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mu6XG', 'Blitz', 'kaichess666', 2060, 'Anilshivpuri', 2030, 'e4,c5,d4,Nc6,d5,Ne5,f4,Ng6,e5,d6,Nf3,dxe5,fxe5,Bg4,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O-O,c4,Kb8,Nc3,Ka8,a3,f6,e6,Qc8,Qe2,Nh6,b4,Nf5,Be3,Nxe3,Qxe3,h5,bxc5,h4,Rfb1,h3,g3,f5,Rb2,f4,gxf4,Nh4,Rab1,Nxf3+,Qxf3,g5,Rxb7,Qxc5+,Kh1,g4,Qe4,Qf2,Rb8+,Rxb8', 'd6+,Rb7,Qxb7#', 'https://lichess.org/training/mu6XG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mU7Mn', 'Rapid', 'WaroftheMorning', 1829, 'Zugzwinger99', 1872, 'e4,e5,Nf3,Nf6,d3,Nc6,c3,h6,Be3,Be7,Qb3,O-O,Nbd2,a5,a4,b6,Be2,d5,O-O,dxe4,Nxe4,Be6,Qb5,Nxe4,dxe4,Na7,Qxe5,Bd6,Qd4,Nc6,Qd2,Qe7,Bb5,Ne5,Nd4,Ng4,h3,Nxe3,Qxe3,Qf6,f4,Bc5,Kh1,Rad8,Rad1,Bb3,Rd2,c6,e5,Bxd4,cxd4,Qe6,Bxc6,Qxc6,Qxb3,Rd5,Qc3,Rc8,Rf3,Qb7,Qb3,Rc1+,Kh2,Rc6,Rc3,g6,Rxc6,Qxc6,Kg3,Qe6,Kf2,Kg7,Ke3', 'Rxe5+,fxe5,Qxb3+', 'https://lichess.org/training/mU7Mn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mU85o', 'Classical', 'vleeshhd', 2053, 'RedRook90', 1694, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,c5,Nc6,Nf3,Be7,a3,O-O,Bd3,a6,b4,b6,Na4,bxc5,bxc5,Qc7,O-O,Bd7,Nb6,Ra7,Be3,Rb8,Qe2,Bc8,g3,Nh5,Rab1,Bd8,Ne5,Nxe5,dxe5,g6,f4,Ng7,g4,Be7,Rfc1,Qc6,Bd4,Bd8,Nxc8,Rxb1,Rxb1,Qxc8,Qb2,Bc7,c6,Ra8,Qb7,Rb8,Qxc8+,Rxc8,Bxa6,Ra8,Rb7,Ne8,Ba7', 'Rxa7,Rxa7,Bb6+,Kg2,Bxa7', 'https://lichess.org/training/mU85o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mu8PD', 'Rapid', 'GSOM', 1648, 'ManuelLeiva', 1660, 'e4,d5,exd5,Qxd5,c4,Qe4+,Qe2,Qxe2+,Bxe2,Nf6,Nf3,Nc6,Nc3,Bf5,Nb5,O-O-O,b4,e5,c5,a5,a3,axb4,axb4,Nxb4', 'Ra8+,Kd7,Nxe5+', 'https://lichess.org/training/Mu8PD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mu91s', 'Classical', 'Master_of_chess', 1809, 'Fairyking', 1809, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,e5,dxe5,fxe5,Nfd7,Nf3,e6,Bg5,Qe8,Be2,Nc6,O-O,f6,exf6,Bxf6,Bxf6,Nxf6,d5,exd5,cxd5,Ne7,Bc4,Kh8,Qd4,Nf5,Qd2,a6,Rae1,Qd8,Nd4,Bd7,Nce2,Nd6,Bb3,Nfe4,Qh6,Qe7,Nf4,Rf6,Nfe6,Bxe6,Nxe6,Re8,Bc2,Rxf1+,Rxf1,c6,Nf8,Kg8,dxc6,b5,Bb3+,Nc4,Nd7,Rc8,h3,Qd6,Rd1,Qxc6,Ne5', 'Qc5+,Kh2,Qxe5+', 'https://lichess.org/training/Mu91s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mu9sy', 'Rapid', 'Conneely93', 1814, 'BabySitter389', 1754, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,f3,Bb4,Qc2,O-O,a3,Bxc3+,bxc3,c5,cxd5,exd5,e3,c4,Ne2,b5,Ng3,h6,Bf4,Bb7,e4,Re8,e5,Nh7,Be2,f6,exf6,Nhxf6,O-O,Rf8,Bd6,Rf7,Rab1,a6,a4,Nb6,axb5,Qxd6,bxa6,Rxa6,Nf5,Qf4,g3,Qc7,Rb2,Bc8,Rfb1,Bxf5,Qxf5,Rf8,Qe6+,Kh8,Rxb6,Rxb6,Rxb6', 'Re8,Qd6,Qxd6,Rxd6,Rxe2', 'https://lichess.org/training/Mu9sy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('muA2R', 'Rapid', 'Shresthisthebetter', 1817, 'Premrefin', 1697, 'e4,Nc6,Nf3,d6,Nc3,Bg4,h3,Bh5,Be2,e6,d3,Be7,Nh2,Bxe2,Qxe2,Nf6,O-O,Nd4,Qd1,O-O,Nf3,Nc6,d4,d5,e5,Nd7,Bf4,Nb4,a3,Na6,Qd2,f6,exf6,Rxf6,Bg5,Rg6,Bxe7,Qxe7,Ne2,Rf8,Nf4,Rgf6,Nh5,Rg6,Ng3,Rxf3,gxf3,Qh4,Kh2,e5,dxe5,Nxe5,Qxd5+,Kh8,Qxe5,h6,Qf5,Rf6,Qc8+,Kh7,Qxb7,Nc5,Qxa7,Ne6,Qe3,Nf4,Qe4+,Rg6,Qf5,h5,Rae1,Kh6,Re4,Rg4,fxg4', 'Qxh3+,Kg1,Qg2#', 'https://lichess.org/training/muA2R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MUAfL', 'Blitz', 'shobi_bobi', 1693, 'gegendenWind', 1641, 'd4,Nf6,e3,e6,Bd3,d5,f4,c5,c3,Nc6,Nd2,g6,Ngf3,Bg7,O-O,O-O,Ne5,cxd4,exd4,Qc7,g4,Nxe5,fxe5,Nd7,h4,f6,h5,fxe5,hxg6,hxg6,Bxg6,exd4,cxd4,Qg3+,Kh1,Rxf1+,Qxf1,Nf6,Nb3,Nxg4', 'Qf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/MUAfL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MUBna', 'Classical', 'juandelajota', 1810, 'Tomilin_Nikolay', 1789, 'd4,d5,Bf4,Nc6,Nf3,h6,e3,Bf5,c3,e5,Nxe5,Nxe5,Bxe5,f6,Qa4+,c6,Bg3,Bd6,Bxd6,Qxd6,Be2,Ne7,O-O,O-O,Nd2,Ng6,h3,Nh4,Nf3,Ng6,c4,dxc4,Qxc4+,Be6,Qd3,f5,b3,Bd5,Rac1,Qf6,Nd2,Nh4,Nf3,Rae8,Nxh4,Qxh4,Qd1,f4,Bf3', 'Bxf3,Qxf3,fxe3', 'https://lichess.org/training/MUBna');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MuCkq', 'Blitz', 'Denisator', 1840, 'fataldeflection', 1835, 'e4,c5,d4,Nf6,e5,Nd5,Nf3,d6,Bc4,Nb6,Bxf7+,Kxf7,Ng5+,Kg8,Qf3,Qe8,e6,cxd4', 'Qf7+,Qxf7,exf7#', 'https://lichess.org/training/MuCkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('muf5D', 'Rapid', 'urbancharmander', 1603, 'sameersequeira', 1675, 'd4,Nc6,c4,e6,d5,exd5,cxd5,Ne5,Bf4,Bd6,Nf3', 'Nxf3+,exf3,Bxf4', 'https://lichess.org/training/muf5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mUHER', 'Blitz', 'saltun', 1856, 'sjafta', 1524, 'b4,g6,Bb2,Nf6,e4,Bg7,e5,O-O,exf6,exf6,Nf3,b6,Be2,Re8,O-O,Bb7,Re1,d6,c4,Nd7,d4,c5,d5,b5,a3,bxc4,Bxc4,Rxe1+,Qxe1,Ne5,Nxe5,fxe5,Nd2,Qg5,Ne4,Qe7,bxc5,dxc5,Rd1,Rd8,d6,Qd7,Nxc5,Qc6,Nxb7,Qxb7,Rb1,Rxd6,Bxe5,Qc6,Bxd6,Qxd6,Rb8+,Qxb8,h3,a5,Qe7,Qf8,Qc7,Qxa3', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/mUHER');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MuHhb', 'Rapid', 'igorvlad121', 1930, 'Egor-Semikoz', 1830, 'c4,c5,Nc3,Nc6,Nf3,g6,d4,cxd4,Nxd4,Bg7,e3,Nf6,Be2,O-O,O-O,d6,Kh1,a6,e4,Qc7,h3,b6,f4,Bb7,Nd5,Nxd5,Nxc6,Nxf4,Nxe7+,Qxe7,Bxf4,Rfd8,Qc2,Qxe4,Bd3,Qc6,Rae1,Re8,b3,d5,Qf2,dxc4,Bxc4,b5,Bxf7+,Kxf7,Be5+,Kg8', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/MuHhb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MuhL7', 'Classical', 'Cadenas81', 2027, 'TUFTA-Master', 1940, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d5,exd5,Qxd5,Nc3,Qxd4,Qb3,Qb4,Qd1,e5,a3,Qd4,Bd3,Bg4,Nf3,Bxf3,Qxf3,Nf6,O-O,Qg4,Qxg4,Nxg4,Nb5,O-O-O', 'Bf5+,Kb8,Bxg4,a6,Nc3', 'https://lichess.org/training/MuhL7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Muhwt', 'Rapid', 'fidel_1900', 1683, 'prosta4ok', 1724, 'e4,d5,e5,Nc6,d4,e6,Nf3,Nge7,Bb5,Bd7,Bg5,f6', 'exf6,gxf6,Bxf6', 'https://lichess.org/training/Muhwt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('muIOL', 'Rapid', 'florinsoanca', 1691, 'Kaedy_e', 1713, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bd7,Bxc6,Bxc6,d3,h6,Be3,Nf6,O-O,Be7,Qc1,Qd7,a4,b6,h3,g5,Nd2,Nh5,d4,Nf4,Bxf4,gxf4,d5,Rg8,Kh2,Bb7,Nf3,O-O-O,b4,f5,a5,Kb8,axb6,cxb6,Qa3,Bc8,Nb5,a6,Nc3,fxe4,Nxe4,Rg6,Qd3', 'Rxg2+,Kxg2,Qxh3+', 'https://lichess.org/training/muIOL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('muJTe', 'Rapid', 'vivek045', 1667, 'juanfasblat', 1693, 'e4,e5,Nf3,Nc6,Nc3,Bb4,a3,Bxc3,dxc3,d6,Bb5,Bd7,O-O,a6,Bc4,Nf6,Ng5,O-O,Bxf7+,Rxf7,Nxf7,Kxf7,Bg5,Be6,f4,Kg8,fxe5,Nxe5,Qe1,Qd7,Bxf6,gxf6,Rxf6,Rf8,Qg3+,Ng6,Raf1,Rxf6,Rxf6,Kg7,Rf2,Kh8,h4,Qg7,Qg5,h6,Qd8+,Kh7,h5,Ne5,Qe8,Bf7,Qe7,Bxh5,Qxg7+,Kxg7,b3,Bg6,Kh2,Bxe4,Re2,Bd5,c4,Be6,c5,Kf6,cxd6,cxd6,Rf2+,Kg5,Rf8,Bd5,c4,Be6,Rd8,Nd7,b4,Kf6,c5,dxc5,bxc5,Nxc5,Rf8+,Kg7,Re8,Kf6,Rd8,Ke7,Rh8,Ne4,Rxh6,b5,Rh7+,Kd6,Ra7,Nc5,Rh7,Kc6,Rh6,Kb6,g4,Ka5,g5,Ka4,g6,Kxa3,g7,b4', 'Rxe6,Nxe6,g8=Q', 'https://lichess.org/training/muJTe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mUJUx', 'Rapid', 'Prav_Rmurthy', 1875, 'SemomnesS', 1848, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,d6,Nf3,Nc6,O-O,Nf6,Re1,Be7,Bxf7+,Kxf7,Ng5+,Kf8,Qb3,Qd7', 'Qf7#', 'https://lichess.org/training/mUJUx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mUkQ9', 'Rapid', 'momo_klaus', 2055, 'Sykylol', 2125, 'e4,c5,c3,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nc6,d4,O-O-O,Be3,Nf6,O-O,e6,h3,Bh5,Qa4,Kb8,c4,Qe4,Nc3,Qg6,Rfd1,Be7,d5,exd5,cxd5,Bxf3,Bxf3,Ne5,Bf4,Bd6,Bxe5,Bxe5,Nb5,a6,Nc3,Qg5,Ne4,Qf4,Nxf6,Qh2+,Kf1,Bxf6,d6,Qh1+,Ke2,Rhe8+,Kd2,Rxd6+', 'Kc2,Re2+,Bxe2', 'https://lichess.org/training/mUkQ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('muLBi', 'Blitz', 'Lohika', 2060, 'MasterFitch', 2219, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nc3,Be7,Be3,O-O,Be2,d5,c5,Nc4,Bxc4,dxc4,Qe2,c6,Qxc4,b5,cxb6,axb6,Nge2,Ba6,Qb3,b5,Ne4,b4,N4g3,Bd6,Qc2,b3,Qxb3,Nd7,Qc2,Nf6,O-O,Ng4,Rfd1,Qh4,Nf1,Bxh2+,Kh1,Nxf2+,Bxf2', 'Bg3+,Kg1,Bxf2#', 'https://lichess.org/training/muLBi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Muld0', 'Blitz', 'benbelben', 1925, 'bagherkhasragh', 1888, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Nxe4,Bd3,d5,exd6,Nxd6,O-O,Be7,Re1,O-O,Nc3,Bg4,Bf4,Nd4,Be2,Nxe2+,Qxe2,Re8,Qd3,Bh5,Rad1,Bg6,Qd5,Bf6,Rxe8+,Qxe8,Bxd6,cxd6,Qxd6,Rd8,Qc7,Rxd1+,Nxd1,Bh5,Kf1,Qb5+,c4,Qe8,b3,Bg6,Ne3,Bd3+,Ke1,h6,Kd2,Be4,Qf4,Qd7+,Ke1', 'Bc3+,Kf1,Qd3+,Kg1,Qb1+', 'https://lichess.org/training/Muld0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mULh6', 'Rapid', 'sebchat', 1822, 'olpm', 1920, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,a6,O-O,Nf6,Qe2,Bg4,Rd1,e6,h3,Bxf3,Qxf3,Ne5,Qe2,Nxc4,Qxc4,Be7,e5,d5,Qe2,Nd7,Bf4,O-O,Qg4,Kh8,Rac1,Rc8,Ne2,Qa5,a3,Qa4,Nc3,Qb3,Rd2,Bxa3,Rcd1,Bxb2,Ne2,Rc2,Nd4,Bxd4,Rxd4,Nc5,Bg5,Ne4,Qh4,Nxg5,Qxg5,Rfc8,Rg4,Rg8,h4,Rxf2,Rc1,Rf5', 'Qxg7+,Rxg7,Rc8+,Rg8,Rgxg8#', 'https://lichess.org/training/mULh6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MUMbn', 'Classical', 'Dihlyz', 1655, 'MikolajPL', 1698, 'c4,c6,Nf3,d5,d4,Bg4,a3,Bxf3,exf3,Nf6,Nd2,e6,Be2,Be7,Qb3,O-O,O-O,b6,f4,Ne4,Nf3,a5,Bd3,Nd6,c5,bxc5,dxc5,a4,Qd1,Nb7,b4,axb3,Bb2,Nxc5,Ne5,f6,Bxh7+,Kxh7,Qh5+,Kg8,Ng6,Re8,g4,Nd3,Bd4,Rxa3,g5,Rxa1,Rxa1,b2,Rf1,c5,gxf6,gxf6', 'Qh8+,Kf7,Qh7#', 'https://lichess.org/training/MUMbn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MUMFv', 'Blitz', 'IM imdejong', 2471, 'limosity', 2341, 'e4,c6,d3,d5,Nd2,e6,Ngf3,Nf6,g3,Nbd7,Bg2,Bd6,O-O,O-O,Re1,e5,b3,Re8,Bb2,d4,a3,b5,Nh4,Nf8,Nf5,Bxf5,exf5,Rc8,g4,Nd5,Ne4,Nf4,Bc1,Nxg2,Kxg2,c5,Qf3,c4,g5,cxb3,cxb3,Rc2,h4,b4,h5,bxa3,Bxa3,Bxa3,Rxa3,Qe7,Ra6,Qb4,Re2,Rxe2,Qxe2,Qb7,Qa2,Ra8,h6,Nd7,hxg7', 'Nc5,Qe2,Nxa6', 'https://lichess.org/training/MUMFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mUNQe', 'Blitz', 'astroori', 1812, 'Paullost', 1808, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Bb4,Bg5,O-O,cxd5,exd5,e3,Nc6,Bd3,Bg4,Bc2,h6,Bxf6,Qxf6,Qd3,g6,O-O,Bxf3,gxf3,Qxf3,Qe2,Qxe2,Nxe2,Kg7,Kh1,f5,a3,Bd6,Rg1,Rf6,Rg2,f4,Nxf4,Bxf4,exf4,Raf8,Rag1,Nxd4,Bb1,Nf3,Rxg6+,Rxg6,Rxg6+,Kf7,Rxh6', 'Rg8,Bg6+,Rxg6,Rxg6,Kxg6', 'https://lichess.org/training/mUNQe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MUokF', 'Blitz', 'enver-lovac964', 2324, 'sizukinis24', 2418, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,d5,e5,Ng4,Qe2,Bc5,O-O,Qe7,Bf4,g5,Bg3,h5,h4,gxh4,Bf4,Rg8,Kh1,h3,gxh3,Qh4,Qf3,Nxf2+,Rxf2,Bxf2,Nd2,Bg4,Qg2,O-O-O,Ba6+,Kb8,Nf3,Bxf3,Qxf3,Rg3,Bxg3', 'Qxh3+,Bh2,Qxf3#', 'https://lichess.org/training/MUokF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MUOVG', 'Rapid', 'matzeeeeee', 1714, 'Gapperdegap', 1699, 'd4,d5,Bf4,g6,e3,Bg7,c4,e6,Nc3,Nf6,c5,O-O,Nf3,b6,b4,a5,a3,axb4,axb4,Rxa1,Qxa1,Nc6,b5,Ne7,c6,Nf5,Bg5,Nd6,Qa7,Nde4,Nxe4,dxe4,Nd2,h6,Bf4,Nd5,Nxe4,Nxf4,exf4,Bxd4,Be2,e5,fxe5,Bxe5,O-O,Qh4,Ng3,Bxg3,fxg3,Qe7,Bc4', 'Qc5+,Rf2,Qxc4', 'https://lichess.org/training/MUOVG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('muPbQ', 'Rapid', 'Anshul0786', 1891, 'Obaida_92', 1912, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,Bd7,O-O,Nf6,e5,dxe5,fxe5,Ng4,Qe2,e6,d3,f6,exf6,Nxf6,Bxe6,Bxe6,Qxe6+,Qe7,Ng5,h6,Qxe7+,Bxe7,Ne6,Kf7,Nc7,Rac8,Nd5,Rhe8,c4,Nd4,Na3,Kg8,Nxe7+,Rxe7,Bf4,Rce8,Bxh6,Ne2+,Kh1,gxh6,Rxf6,Re3,Nc2,Rxd3,Rxh6,Nf4,Rh4,Re4,g3,Nh3,Rxh3,Rd2,Ne1,Rxb2,Nf3,Rxc4,Rh4,Rc3,Rg4+,Kh7,Ng5+,Kh6,Nf7+,Kh7,Ng5+,Kh6,Ne4,Rcc2,Rd1,Rxh2+,Kg1,Rbg2+,Kf1,Rxa2,Rd6+,Kh5,Nf6+,Kh6,Nd7+,Kh7,Nf8+,Kh8,Rh4+,Rxh4,gxh4,c4,Ne6,c3,Nd4,c2,Nxc2,Rxc2,Rd8+,Kh7,Rd7+,Kh6,Rxb7,a5,Ra7,Ra2,Rf7,Kh5,Rf2', 'Rxf2+,Kxf2,a4,Ke1,a3,Kd2,a2', 'https://lichess.org/training/muPbQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mUPhh', 'Rapid', 'micaelpj22', 1606, 'ericbsantana', 1620, 'c4,e5,Nc3,Nf6,g3,Nc6,Bg2,Bb4,Qc2,d6,a3,Bxc3,Qxc3,Be6,d3,O-O,Nf3,e4,Ng5,exd3,Nxe6,fxe6,Qxd3,Ne5,Qd2,Nxc4,Qb4,d5,O-O,b6,Bg5,a5,Bxf6,Rxf6,Qb5,Qd6,e4,c6,Qb3,Nd2,Qxb6,Nxf1,Re1,Nxg3,e5,Qe7,exf6,Qxf6,Qxc6,Rf8,Qc5,Ne4,Bxe4,dxe4,Rxe4', 'Qg6+,Kf1,Qxe4', 'https://lichess.org/training/mUPhh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mupso', 'Rapid', 'barsuk80', 1991, 'fedor-aes', 1815, 'e4,e6,d4,d5,exd5,Qxd5,Bd3,Nc6,Nf3,h6,c3,Bd7,O-O,O-O-O,Bf4,g5,Bg3,f5,c4,Qa5,Be5,Rh7,Nc3,g4,Nh4,Nxe5,dxe5,Qxe5,Ng6,Qf6,Nxf8,Qxf8,Rc1,h5,c5,Bc6,Qe2,h4,Qxe6+,Kb8,Qxf5,Rf7,Qg6,Ne7,Qh5,Rxd3,Qxh4,Rd8,Rfd1,Re8,b4,Nf5,Qg5,Rg7,Qf4,Rf7,Qg5,Qe7,Qxe7,Rfxe7,b5,Bd7,a4,Nd4,Kf1,Nb3,c6,Bf5,Nd5,Nxc1,Nxe7,Rxe7,Rxc1,bxc6,bxc6,Re5,Rd1,Re8,h3,gxh3,gxh3,Bxh3+,Kg1,Be6,Kh2,Bf5,Rd2,Be4,Re2,Rh8+,Kg3,Bxc6,f4,Bxa4,f5,Kc8,Kf4,Rf8,Kg5,a6,f6,Bb3,Re3,Bd5,Kg6,c6,Re7,a5,Ra7,a4', 'Ra8+,Kb7,Rxf8', 'https://lichess.org/training/Mupso');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MUpt3', 'Rapid', 'Bubaigor', 1862, 'Claudi0', 1792, 'e4,c6,Nf3,d5,d4,dxe4,Ne5,Nf6,Bc4,e6,O-O,Nbd7,Bg5,Be7,Nc3,Nxe5,dxe5,Nd5,Bxe7,Qxe7,Nxe4,O-O,Bd3,Rd8,Qh5,Nf4,Qf3,Nxd3,cxd3,b6,Rad1,c5,Qh5,h6,f4,Bb7,Nd6,Bd5,b3,a5,d4,cxd4,Rxd4,Rxd6,exd6,Qxd6,Rfd1,Qc5,Kh1', 'Bxg2+,Kxg2,Qxh5', 'https://lichess.org/training/MUpt3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MUPZ7', 'Classical', 'Outclaw', 1869, 'jbagwan', 1797, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c4,b6,Nc3,Bb7,Be3,Nf6,f3,d6,Qa4+,Nbd7,Nc6,Bxc6,Qxc6,O-O,f4,Rc8,Qa4,Ng4,Bd2,Qc7,Nd5,Nc5,Qd1,Qd7,Be2,Nh6,f5,Nxe4,fxg6,fxg6,Bxh6,Bxh6,Bg4,e6,Qd4,Bd2+,Kd1,Qa4+', 'b3,Qe8,Qxe4', 'https://lichess.org/training/MUPZ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mURpY', 'Blitz', 'akshay2200', 2102, 'Aryan1233sethia', 2007, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,Ng5,d5,exd5,Ne5,Qxd4,Nxc4,Qxc4,Qxd5,Qe2+,Be6,O-O,Qc4,Qf3,O-O-O,Nc3,Bg4,Qe3,Bb4,Qxa7,Bxc3,bxc3', 'Qxf1+,Kxf1,Rd1#', 'https://lichess.org/training/mURpY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mURX0', 'Rapid', 'Bujhm-V', 1876, 'yarick_ts', 1886, 'e4,e5,f4,d5,exd5,e4,d3,exd3,Bxd3,Bc5,Nf3,Nf6,c4,O-O,Nc3,Ng4,Ne4,Re8,Kd2,Bf5,Nxc5,Bxd3,Nxd3,Re3,Kc2,Na6,h3,Rxd3,Qxd3', 'Nb4+,Kc3,Nxd3', 'https://lichess.org/training/mURX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mUT1s', 'Rapid', 'spartanlopez', 1852, 'GastonAguiar', 1831, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Nf3,Nf6,Bc4,g6,Qb3,e6,O-O,Bg7,Rd1,Nfd7,Rxd6,O-O,Bg5,Qc7,Rad1,Ne5,Nxe5,Bxe5,Nb5,Bxd6,Nxc7,Bxc7,Bf6,Nd7,Bc3,a6,Bb4,Re8,Qa4,b5,Bxb5,Nb6,Qc2,axb5,Qxc7,Nc4,b3,Nb2,Rd8,Ba6,Rxe8+,Rxe8,Qc6', 'Rc8,Qxc8+,Bxc8', 'https://lichess.org/training/mUT1s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mUTNv', 'Rapid', 'SashaMendoza', 1627, 'ChessSrfr', 1645, 'e4,c5,f4,d6,Nf3,Nc6,Be2,g6,Nc3,Bg7,O-O,Nf6,d3,a6,Qe1,b5,a3,Rb8,Rb1,a5,Na2,b4,axb4,axb4,b3,Bb7,Bb2,O-O,Nc1,Re8,c3,e5,cxb4,Nxb4,fxe5,dxe5,Bxe5,Rc8,Bb2,Nxe4,Bxg7,Kxg7,dxe4,Bxe4,Rb2,Bxf3,Rxf3', 'Qd4+,Qf2,Qxb2', 'https://lichess.org/training/mUTNv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mUw61', 'Blitz', 'knight23', 2500, 'Michaeljako_concio', 2510, 'e4,e5,Nc3,Nc6,g3,Bc5,Bg2,d6,d3,Nf6,h3,h6,Be3,O-O,Qd2,Bxe3,Qxe3,Nh5,O-O-O,Qg5,Qxg5,hxg5,Nge2,Be6,Kb1,Rad8,d4,exd4,Nxd4,Nxd4,Rxd4,Nf6,Rhd1,a6,e5,Ne8,Bxb7,Rb8,Bxa6,dxe5,Re4,Rb6,Bf1,f6,Bc4,f5,Bxe6+,Rxe6,Rc4,e4,a4,Nd6,Rxc7,f4,gxf4,gxf4,Rc6,e3,Rcxd6,Rxd6,Rxd6', 'exf2,Rd1,Re8,Kc1,Re1', 'https://lichess.org/training/mUw61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mUxm0', 'Classical', 'Tu-ra', 1851, 'tankovski62', 1751, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Nc3,Nf6,O-O,O-O,Bg5,h6,Bh4,Ne7,Bxf6,gxf6,h3,Ng6,Nd5,Ba5,b4,Bb6,Re1,c6,Ne3,Be6,Bxe6,fxe6,Ng4,Kg7,Qd2,Rh8,h4,e5,h5,Nf4,dxe5,fxe5,Rad1,Bc7,Qc3,Qe7,a4,Rhg8,Ne3,Kh7,g3,Qf7,Nf5,Qxh5,N3h4,Bb6,Kf1,Nh3,Rxd6,Bd4,Qd3,Nxf2,Qd2,Ng4,Nxd4,exd4,Qxd4,Raf8+,Kg1,Nf2', 'Rd7+,Rf7,Rxf7+,Qxf7,Qxf2,Qxf2+,Kxf2', 'https://lichess.org/training/mUxm0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MuYVP', 'Rapid', 'behnamnafei', 1743, 'Tal_Mike', 2117, 'e4,d5,exd5,c6,dxc6,e5,Nc3,Bc5,d3,Nf6,cxb7,Bxb7,Be3,Bxe3,fxe3,O-O,Nf3,Ng4,Qd2', 'Bxf3,gxf3,Qh4+,Kd1,Nf2+,Kc1,Nxh1', 'https://lichess.org/training/MuYVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mv0k1', 'Blitz', 'Ryuji231', 2149, 'rkid', 2158, 'd4,d5,Nf3,c5,Bf4,Nc6,e3,Bg4,Nbd2,e6,Be2,Nf6,O-O,Rc8,h3,Bh5,c3,Qb6,Ne5,Bxe2,Qxe2,Qxb2,Rab1,Qxa2,Rxb7,Nxe5,Bxe5,c4,Bxf6,gxf6,Ne4,Qxe2', 'Nxf6+,Kd8,Rd7#', 'https://lichess.org/training/Mv0k1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mV1zG', 'Classical', 'TrivellaBull', 1898, 'cyriaque', 2077, 'e4,e6,d4,f5,exf5,exf5,Nf3,Nf6,Bd3,d5,O-O,Be7,Bf4,O-O,Nbd2,Ne4,Ne5,Nc6,Nxc6,bxc6,Nf3,g5,Be5,g4,Nd2,Bd6,Nxe4,fxe4,Bxd6,cxd6,Be2,Qh4,c4,dxc4,d5,Rf6,dxc6,Kg7,Bxc4,e3,Qd4,d5,Bxd5,Ba6,fxe3,Bxf1,Rxf1,Rf8,c7,g3,Qxf6+,Qxf6', 'Rxf6,Kxf6,Bb7', 'https://lichess.org/training/mV1zG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MV2Hq', 'Rapid', 'Paolo1988', 1973, 'jotaele89', 2014, 'd4,c6,Bf4,d5,e3,Bf5,Bd3,Bg6,Nf3,Qb6,b3,e6,O-O,Nf6,Nbd2,Nbd7,Ne5,Nxe5,Bxe5,Nd7,Bg3,Bxd3,cxd3,Bb4,Nf3,f6,Qe2,O-O-O,e4,Bc3,Rac1,Bxd4,Nxd4,Qxd4,exd5,exd5,Qe6,Rhe8', 'Rxc6+,bxc6,Qxc6#', 'https://lichess.org/training/MV2Hq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mV2J1', 'Rapid', 'hero2370', 1686, 'eriguperta', 1713, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,c4,Nf6,Nc3,Be7,Bg5,h6,Bh4,O-O,O-O,Re8,Rfe1,Ng4,Bxe7,Rxe7,Nd5,Bxd5,exd5,Rxe1+,Rxe1,Nf6,Qe3,Qd7,Qe7,Rd8,b3,c6,dxc6,bxc6,Nd4', 'Re8,Qxe8+,Nxe8', 'https://lichess.org/training/mV2J1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MV4J5', 'Classical', 'HotMustang', 1791, 'alizadehfalah52', 1608, 'e4,e5,Nf3,Qf6,d4,exd4,Nxd4,Bc5,Be3,Nh6,Bc4,Ng4,O-O,Bd6,Qxg4,h5,Qg5,Be5,Rd1,d6,Nc3,c6,f4,Qxg5,fxg5,h4,Rf1,h3,Bxf7+,Kd8,Ne6+,Bxe6,Bxe6,hxg2,Kxg2,Rxh2+,Kg1,Nd7,Bxd7,Kxd7,Rf7+,Ke6,Rxb7,g6,Rc7,Rah8,Rf1', 'Rh1+,Kf2,R8h2+,Ke1,Bg3+', 'https://lichess.org/training/MV4J5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mV4kP', 'Rapid', 'casabord', 1635, 'logomind', 1634, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Be2,d6,O-O,O-O,b4,Bb6,a4,a5,b5,Ne5,Nd2,d5,Qc2,Ng4,Bd3,Nxe3,fxe3,Qh6,Rf3,dxe4,Bxe4,f5,Bxf5,Nxf5,Nxf5,Bxf5,Rxf5,Rxf5,Qxf5,Qxe3+,Kh1,Qxd2,Rf1,Qxc3', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/mV4kP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mV5jx', 'Classical', 'ARX91', 1687, 'niki50', 1804, 'e4,e5,Nf3,Nf6,d4,exd4,e5,Qe7,Nxd4,Qxe5+,Ne2,Bd6,Nc3,O-O,Bf4,Qa5,g3,Re8,Qd2,Bxf4,gxf4,c6,O-O-O,d5,Nd4,Bg4,Nb3,Qb4,a3,Qd6,Be2,Bxe2,Nxe2,Ne4,Qd4,Nd7,Rhg1,Ndf6,Ng3,c5,Nxe4,Rxe4,Qc3,Qxf4+,Kb1,c4,Nc5,Qe5', 'Nxe4,Qxc3,Nxc3', 'https://lichess.org/training/mV5jx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MV5yR', 'Rapid', 'hhlb', 1703, 'reda19693', 1746, 'd4,d5,c4,dxc4,e3,Be6,Qa4+,c6,Bxc4,Bxc4,Qxc4,Nf6,Nf3,e6,O-O,Ne4,Qd3,Qd5,Nc3,Nxc3,Qxc3,Be7,Re1,O-O,e4,Qd8,Bf4,Nd7,Rad1,Nf6,Qd3,Nh5,Bc1,Bh4,Nxh4,Qxh4,Re3,Qg4,Rh3,Nf4,Qg3,Nxh3+,gxh3,Qxg3+,hxg3,Rfd8,Be3,g6,Bg5,Rd7,Kg2,a5,b3,b5,a3,c5,Bf6,cxd4,Rxd4,Rxd4,Bxd4,Rd8,Bb6,a4', 'Bxd8,axb3,Bf6', 'https://lichess.org/training/MV5yR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mv6zt', 'Classical', 'Marvingrn', 1898, 'billybones11', 1973, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,Qb6,b3,cxd4,cxd4,Nge7,Be3,Nf5,a3,Be7,Nc3,Bxa3', 'Rxa3,Nxe3,fxe3', 'https://lichess.org/training/mv6zt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mV81u', 'Rapid', 'Gef_the_mongoose', 1986, 'ClawOfficial', 2034, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Qe7,Qe2,Nd5,c4,Ba6,b3,g6,g3,Bg7,Bb2,Qb4+,Qd2,Qxd2+,Kxd2,Nb6,Kc2,O-O,Nd2,d5,f4,Bc8,Bg2,Bf5+,Kc1,f6,Re1,Rae8,a4,fxe5,a5,Nd7,cxd5,exf4,Rxe8,Bxb2+,Kxb2,Rxe8,dxc6,Nf6,Kc3,Re2,Bf3,Re3+,Kd4,Rd3+,Ke5,Ng4+,Bxg4,Bxg4,Ne4,f3,Nf6+,Kg7,Nxg4,Rxb3,Kf4,h5,Ne5,g5+,Kxg5,f2,Kxh5,Re3,Ng4', 'Re1,Nxf2,Rxa1', 'https://lichess.org/training/mV81u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mv9rW', 'Blitz', 'farshad-sam', 2062, 'FM Arad_Nazari', 2436, 'e4,c5,Nc3,Nc6,Nf3,g6,Bc4,Bg7,d3,e6,Nb5,d6,Bf4,e5,Bg5,Nf6,Be3,O-O,O-O,a6,Nc3,b5,Bb3,Nd4,Bxd4,cxd4,Nd5,Bg4,h3,Bxf3,Qxf3,Nxd5,Bxd5,Rc8,c4,dxc3,bxc3,Rxc3,Rfc1,Qc7,Rxc3,Qxc3,Rd1,Bh6,g4,Kg7,h4,Qd4', 'g5,Bxg5,hxg5', 'https://lichess.org/training/mv9rW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MVawW', 'Blitz', 'thopezla', 2120, 'Stinglessbee', 2109, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Be2,e6,O-O,d5,Nxc6,bxc6,Bg5,Be7,exd5,cxd5,Bd3,O-O,Qf3,h6,Bh4,Bb7,Qe2,d4,Ne4,Nxe4,Bxe7,Qxe7,Bxe4,f6,f4,Rab8,b3,Rfe8,Rad1,e5,Qc4+,Kh8,Bxb7,Rxb7,Qxa6,Ra7,Qc4,Rxa2,fxe5,fxe5,Rf7,Qg5,b4,Rea8,b5,Qe3+,Kh1,Ra1,Rdf1,Rxf1+,Rxf1,e4,Qc6,Rg8,b6,Qe2,Rb1,d3,cxd3,exd3,b7,d2,Qc2', 'Qe1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/MVawW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MVBjU', 'Rapid', 'Stanislaw1', 1824, 'capitanalmendra', 1795, 'e4,c5,b3,g6,Bb2,Nf6,h4,Bg7,e5,Nd5,Nf3,d6,h5,Bf5,h6,Bxe5,Nxe5,dxe5,Bxe5,Rg8,d3,Nc6,Bb2,Qc7,Nc3,e6,Nxd5,exd5,Be2,O-O-O,Qd2,Rde8,O-O-O,d4,g4,Be6,Bf3,f5,g5,Ne7,Rde1,Nd5', 'Rxe6,Rxe6,Bxd5', 'https://lichess.org/training/MVBjU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvCnD', 'Blitz', 'Jadoubovic11', 2286, 'JUGO-BOSS', 2227, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,f4,Nbc6,Nf3,Bd7,Bd3,c4,Be2,Nf5,a4,Qa5,Qd2,f6,Ba3,fxe5,fxe5,O-O-O,O-O,h6,g4,Nfe7,Nh4,Rdf8,Bd6,g5,Ng2,Rxf1+,Bxf1,Qd8,Be2,Ng6,Rf1,Nce7,Rf6,Rf8,Qe3,Bxa4,Rxe6,Bxc2,Rf6,Be4,Rxf8,Qxf8,Bd1,Bxg2,Kxg2,Qf4,Qxf4,Nxf4+,Kf3,Kd7,Ba4+,Ke6,h4,a6,h5,b5,Bc2,a5,Bh7,Nd3,Bxd3,cxd3,Ke3,Nc8,Bf8,Nb6,Kxd3,Nc4,Bxh6,a4,Bxg5,a3,h6,a2,h7,a1=Q,h8=Q', 'Qd1+,Bd2,Qxd2#', 'https://lichess.org/training/MvCnD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvCUa', 'Blitz', 'amabhawu_echess', 1505, 'majonessss', 1528, 'e4,e6,d3,c5,Nf3,Nc6,b3,d5,exd5,Qxd5,Bb2,h6,Nc3,Qd7,Be2,Nd4,Nxd4,cxd4,Ne4,Bb4+,Nd2,Bc3,Bxc3,dxc3,Nc4,b5,Ne5,Qd5,Bf3', 'Qxe5+,Qe2,Qxe2+,Kxe2,Rb8', 'https://lichess.org/training/MvCUa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MVdMU', 'Classical', 'sff1', 2055, 'Lucashistory', 2122, 'e4,c5,Nf3,d6,c3,Nf6,Be2,Nc6,d4,cxd4,cxd4,Nxe4,d5,Qa5+,Nc3,Nxc3,bxc3,Nb8,O-O,g6,Bd2,Qxd5,Nd4,Bg7,Bb5+,Bd7,Qa4,Nc6,Nxc6,Bxc6,Bxc6+,Qxc6,Qxc6+,bxc6,Rab1,f5,Rb7,Kf7,Re1,Rhe8,Bg5,Bf6,Bf4,Kf8,Reb1,e5,Bh6+,Kg8,Rd7,Rab8,Rbb7,Rxb7,Rxb7,Re7,Rb8+,Kf7,Rf8+,Ke6,Rc8,Kd5,c4+,Kxc4,Rxc6+,Kd5,Ra6,Rb7,h3,Kc5,Be3+,Kb5,Rxd6,Bg7,Rd8,Ka4,Rd6,e4,Ra6+,Kb5,Rd6,Kc4,Ra6,Be5,g3,Bd4', 'Ra4+,Rb4,Rxb4+,Kxb4,Bxd4', 'https://lichess.org/training/MVdMU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvDVj', 'Rapid', 'savetiger', 1929, 'MiGrenz', 1899, 'd4,Nf6,Nc3,d5,Bg5,e6,e4,h6,Bh4,Be7,exd5,Nxd5,Bxe7,Nxe7,Bc4,O-O,Nf3,c6,a4,b6,O-O,Ba6,Qd3,Bxc4,Qxc4,Nd7,Rad1,Rc8,Qa6,Qc7,Ne4,Nd5,c3,N7f6,Nxf6+,Nxf6,Rfe1,Rfd8,Re2,c5,Rde1,Nd5,dxc5,Qxc5,Ne5,Nc7,Qxa7,Ra8,Qb7,Rxa4,Nc6,Rd7', 'Qc8+,Kh7,Qxd7', 'https://lichess.org/training/MvDVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvEBm', 'Rapid', 'Narotof2008', 1971, 'GhassanBillo', 2165, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bd3,e6,O-O,Ngf6,Re1,Bd6,c3,Qc7,Bg5,O-O-O,a4,Rde8,a5,Nd5,Qc2,Nf4,Bxf4,Bxf4,b4,e5,dxe5,Nxe5,Nxe5,Bxe5,b5,cxb5,Bf5+,Kb8,a6,b6,Qd3,Bxg3,hxg3,Bxf5,Qxf5,Qxc3,Rec1,Qe5', 'Rc8+,Rxc8,Qxe5+', 'https://lichess.org/training/MvEBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mveFc', 'Blitz', 'tha2er', 1773, 'Lasoval', 1910, 'e4,d6,Nf3,g6,g3,Bg7,Bg2,Nf6,d3,e5,O-O,O-O,c3,Nc6,h3,Bd7,Re1,Qc8,Kh2,Ne8,d4,f5,exf5,Bxf5,dxe5,Nxe5,Nxe5,Bxe5,Bh6,Ng7,f4,Bf6,Qd5+,Kh8,Qxb7,Qxb7,Bxb7,Rab8,Bd5,Rxb2+,Bg2,Rfb8,Na3,Bxc3,Bxg7+,Bxg7,Rac1,c5,Nc4,Rxa2,Nxd6,Bd7,Rxc5,Rbb2,Rc8+,Bf8,Rxf8+,Kg7,Rf7+,Kh6,Rg1,Bc6,g4,Bxg2', 'g5+,Kh5,Rxh7#', 'https://lichess.org/training/mveFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mvEir', 'Blitz', 'Predator_NNUE', 2454, 'IM Odirovski', 2496, 'd4,Nf6,Nf3,d5,c4,c6,Nc3,e6,Bg5,Qb6,cxd5,Nxd5,e4,Qxb2,Nxd5,cxd5,exd5,Bb4+,Bd2,Bxd2+,Nxd2,Qxd4,Bb5+,Bd7,Bxd7+,Nxd7,dxe6,Qe5+,Kf1,Qxe6,Qe1,Ne5,f4,Nd3,Qxe6+,fxe6,g3,e5,Ke2,O-O-O,f5,Rd5,Ne4,Rf8,Rhd1,Nb4,a3,Rxd1,Rxd1,Nc6,Ke3,Kc7,g4,Rd8,Rc1,h6,h4,Rd4,g5,hxg5,hxg5,Ra4,Rc3,Kd8,Nc5,Rg4,Nxb7+,Kc7,Na5', 'Rg3+,Kd2,Rxc3,Kxc3,Nxa5', 'https://lichess.org/training/mvEir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvejO', 'Rapid', 'gokceefendi', 1689, 'Francis173', 1689, 'd4,d5,c4,e6,Bf4,c5,e3,Qb6,Qc2,Nf6,Nf3,Nc6,Nc3,Nb4,Qb3,Bd7,Ne5,a5,a3', 'Nd3+,Bxd3,Qxb3', 'https://lichess.org/training/MvejO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mVF1v', 'Rapid', 'alfapo', 1696, 'Aaaa___Aleyna', 1650, 'Nf3,d6,e4,c5,Bc4,Nf6,Nc3,d5,exd5,a6,O-O,b5,Bd3,c4,Be2,b4,Nb1,Qxd5,Re1,Nc6,d3,c3,bxc3,Bg4,c4,Qc5,Be3,Qa5,Nbd2,O-O-O,Qb1,e6,d4,Be7,c5,Nd5,Nb3,Qa4,Bd2,Nc3,Bxc3,bxc3,Qc1,Bxf3,Bxf3,Nxd4,Nxd4,Rxd4,c6,Rh4,Qe3,Qf4,g3,Qxe3,Rxe3,Ra4,Rxc3', 'Bf6,Rd3,Bxa1', 'https://lichess.org/training/mVF1v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mvGJO', 'Blitz', 'FM nemam_blage_veze', 2381, 'McMaeh', 2390, 'd4,e6,Nc3,d5,e4,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Qg4,cxd4,Qxg7,Rg8,Qxh7,Qc7,Bb5+,Bd7,Bxd7+,Nxd7,Ne2,dxc3,Bf4,Nxe5,O-O,O-O-O,Rab1,N7c6,Bxe5,Nxe5,Qh3,Rh8,Qxc3,Nf3+,gxf3,Rdg8+,Kh1', 'Rxh2#', 'https://lichess.org/training/mvGJO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mvhyy', 'Rapid', 'sngn', 1734, 'RomaJe', 1730, 'c4,c6,Nc3,Nf6,Nf3,d5,cxd5,Nxd5,e3,Bg4,Be2,Bxf3,Bxf3,e6,O-O,Nd7,a3,Bd6,Ne2,Qc7,g3,h5,d4,h4,e4,hxg3,hxg3,O-O-O,e5,Be7,Kg2,Nf8,Bxd5,exd5,Nf4,g5,Nh3,g4,Ng5,Bxg5,Bxg5,Re8,Qxg4+,Kb8,Rh1,Ne6,Bf6,Rhg8,Qf3,Nxd4,Qd3,Ne6,Rh4,Rg6,Rah1,Reg8,Rh8', 'Nf4+,Kf3,Nxd3', 'https://lichess.org/training/mvhyy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MVJpk', 'Rapid', 'TidyEmptyCode', 2156, 'YEET5000', 2036, 'd4,Nf6,Nf3,d5,Bf4,e6,e3,Bd6,Bg3,c5,c3,Nc6,Bd3,O-O,O-O,b6,Nbd2,Qc7,Ne5,Nxe5,dxe5,Bxe5,f4,Bd6,e4,dxe4,Nxe4,Nxe4,Bxe4,Bb7', 'Bxb7,Qxb7,Qxd6,Rfd8,Qe5', 'https://lichess.org/training/MVJpk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mvm37', 'Blitz', 'Qasis', 1544, 'imabadguy', 1597, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,a6,Bxc6,dxc6,O-O,Bd6,h3,O-O,Re1,Kh8,Bg5,h6,Bxf6,Qxf6,Nc3,Bd7,a3,Rg8,b4,g5,g4,h5,Nh2,hxg4,Nxg4,Bxg4,Qxg4,Rg7,Re3,Rh7,Rf3,Qe7,Kh2,Kg7,Rg1,f6,Ne2,Rah8,Kg2,Kf8,Kf1,Ke8,Ng3,Qf7', 'Qc8+,Ke7,Nf5#', 'https://lichess.org/training/Mvm37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MVMJy', 'Rapid', 'newton_750bol', 1692, 'recep16', 1684, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,O-O,O-O,c6,Nxe5,d5,exd5,cxd5,Bb3,Bg4,Nxg4,Nc6,Nxf6+,Qxf6,Nxd5,Qh4,Qf3,Nd4,Qg3,Ne2+,Kh1,Nxg3+,fxg3,Qe4,d3,Qe5,Nc3,Rae8,Bf4,Qh5,Ne4,Bb6,Bd6,Re6,Bxf8', 'Qxh2+,Kxh2,Rh6#', 'https://lichess.org/training/MVMJy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MVNRg', 'Blitz', 'GM zokamura', 2658, 'IM yyoochess', 2702, 'e4,c5,Nc3,Nc6,Bb5,Nd4,Nf3,e6,O-O,a6,Bd3,Nc6,Be2,d6,d4,cxd4,Nxd4,Bd7,Be3,Nf6,f4,Be7,f5,e5,Nb3,b5,a3,b4,axb4,Nxb4,Qd2,Bc6,Bf3,d5,Nxd5,Nbxd5,exd5,Bxd5,Bxd5,Qxd5,Qa5,O-O,Bg5,Qe4,Rf2,Qg4,Bxf6,Bxf6,Re1,Qc4,Qc5,Qa4,Qa5,Qc6,Nc5,Bd8,Qc3,Bb6,Rxe5,f6,Re6', 'Qxc5,Qxc5,Bxc5', 'https://lichess.org/training/MVNRg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvpSR', 'Blitz', 'IM DrMelekess', 2619, 'spy1492', 2144, 'd4,Nf6,Nf3,d5,e3,e6,c4,b6,Nc3,Bb7,Be2,a6,O-O,Bd6,Ne5,Nbd7,f4,O-O,Bf3,Ne4,Qc2,f5,Qb3,Nxc3,bxc3,c6,a4,Nf6,Rb1,Bc7,cxd5,cxd5,c4,Ne4,c5,b5,axb5,axb5,Bxe4,fxe4,Bd2,Bxe5,fxe5,Bc6,h3,Qd7,Qd1,Rxf1+,Qxf1,Rf8,Qe1,Qf7,Qg3,Qh5,Re1,Rf5,Ba5,Rg5,Qf4,Rf5,Qg4,Qxg4,hxg4,Rg5,Ra1,Rxg4,Bc7,Rg3,Kf2,Rg5,Ra6,Rf5+,Ke2,Be8,Ra8,Rf8,Ra7,b4,Rb7,Bh5+,Ke1,Rf7,Rb8+,Rf8,Rxb4,Ra8,Bd6,Be8,Rb6,Rc8,Kf2,Bc6,Be7,Kf7,Bd6,Kg6,Kg3,Kf5,Ra6,g5,Ra7,h5,Rf7+,Kg6,Rf6+,Kg7,Rxe6,h4+,Kh2,g4,Rf6,Bd7,Rf1,g3+,Kg1,Bg4,Rb1,Ra8,c6,Ra2,e6,h3,gxh3,Bxh3,Bxg3,Rg2+,Kh1,Rxg3,e7,Kf7,Kh2,Rxe3,c7,Bc8,Rb8,Re2+,Kg3,Re3+,Kf4,Rc3,Ke5,Kxe7,Rxc8,Kd7,Rd8+,Kxc7,Rxd5,Rc6,Ra5,Rd6,Ra7+,Kc6', 'Ra6+,Kb5,Rxd6', 'https://lichess.org/training/MvpSR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvrAB', 'Rapid', 'la_y', 2270, 'NaotoMatsui', 2229, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Bg4,c4,Bxf3,Qxf3,Nb4,Qb3,N8c6,a3', 'Nxd4,Qxb4,Nc2+', 'https://lichess.org/training/MvrAB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvRdx', 'Blitz', 'AntoniodelaTorre', 2450, 'FM Masterclass2', 2516, 'Nf3,Nf6,d4,g6,g3,Bg7,Bg2,O-O,O-O,d6,c4,c5,Nc3,Nc6,d5,Na5,Nd2,a6,Qc2,Rb8,b3,b5,Bb2,e5,Rab1,h5,h3,Bf5,e4,Bd7,Kh2,h4,g4,Nh7,f3,f5,Rbe1,Bh6,Ne2,bxc4,Nxc4,Nxc4,Qxc4,Bb5,Qc2,Qe7,Bc1,Bxc1,Qxc1,Bxe2,Rxe2,fxe4,fxe4,Qg5,Qxg5,Nxg5,Ref2,Rxf2,Rxf2,Rf8,Rxf8+,Kxf8,Kg1,Ke7,Kf2,Kf6,Ke3,Nf7,a3,a5,Bf1,Kg5,Bg2,Nh6,Bf1', 'Nxg4+,hxg4,Kxg4', 'https://lichess.org/training/MvRdx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mvrkt', 'Rapid', 'Snowden', 1853, 'ronniak', 2046, 'e4,e5,Bc4,Nf6,d4,Nxe4,dxe5,Qh4,Qe2,Nxf2,Kf1,Nxh1,Nf3,Ng3+,hxg3,Qxg3,Be3,Be7,Nbd2,O-O,Ne4,Qg6,Kf2,Kh8,Rh1,f5,Neg5,Bxg5,Nxg5,h6,Bf4,Nc6,c3,d5,Bxd5,Ne7,Bb3,c6,e6,Nd5,Nf7+,Rxf7,exf7,Be6,Be5,Bxf7,Bxd5,cxd5,Qe3,Re8', 'Rxh6+,Kg8,Rxg6', 'https://lichess.org/training/Mvrkt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvRMx', 'Classical', 'HarrisonWells96', 1830, 'Almas89Charsk', 1672, 'c4,e5,Nc3,Nc6,g3,Nf6,Bg2,b6,e3,Bb7,d4,exd4,exd4,Qe7+,Nge2,O-O-O,O-O,Ng4,Nb5,h5,d5,a6,dxc6,dxc6,Na7+,Kb8,Nxc6+,Bxc6,Nd4,Rxd4,Qxd4,Bxg2,Kxg2,f5,Bf4,h4,Rad1,h3+,Kg1,Qc5,Qxc5,Bxc5,a3,a5,Rb1,Re8,b4,axb4,axb4,Bd4,Rbd1,Bc3,b5,Kb7,Rd7,Ne5,Bxe5,Rxe5,Rxg7,Rc5,Rh7,Rxc4,Rc1,Rc5,Rxh3,Bd2,Rxc5,bxc5,Rh5,Kb6,Rxf5,Kxb5,h4,Kb4,h5,c4,Rd5,Bh6,g4,c3,Re5,c2,Re1,c1=Q,Rxc1,Bxc1,Kg2,c5,Kg3,Bh6,f4,c4,g5,Bg7,h6,Bh8', 'g6,c3,g7,Bxg7,hxg7,c2,g8=Q', 'https://lichess.org/training/MvRMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvSja', 'Classical', 'QueenForAKing', 2213, 'g4lois', 1914, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bd2,Nbd7,O-O-O,Qb6,Ne5,Nxe5,dxe5,Ng4,Ba5,Nxe5,Qd2,Qa6,f4,Be7,fxe5', 'Bg5,Kb1,Bxd2', 'https://lichess.org/training/MvSja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MVtcR', 'Rapid', 'juantrim', 1647, 'aboardlover', 1662, 'e4,e5,d3,Nc6,Nf3,Nf6,h3,Bc5,g3,d6,Bg2,O-O,O-O,a5,Nc3,Ne7,a4,c6,Bg5,Ng6,Ne2,Be6,d4,exd4,Nfxd4,h6,Be3,d5,Nxe6,fxe6,Bxc5,Rf7,exd5,exd5,Nd4,Qd7,Re1,Re8,Rxe8+,Qxe8,Qe1,Ne4,Bxe4,dxe4,Nb3,Ne5,Kg2,Nf3,Qe3,Qe5,Bd4,Qf5,Nd2,Ng5,g4,Qe6,Rf1,h5,Kg3,h4+,Kxh4', 'Qh6+,Kg3,Qxh3#', 'https://lichess.org/training/MVtcR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mvtLx', 'Rapid', 'fadhoula', 1656, 'AdrianNM', 1606, 'd4,b6,e4,Bb7,Bd3,e6,Nf3,Nf6,Nbd2,Be7,c4,Bb4,e5,Nh5,O-O,Nf4,Be4,Nc6,a3,Be7,Nb3,Bg5,Bxf4,Bxf4,g3,Bh6,Qc2,a5,d5,Na7,Rad1,exd5,cxd5,Rb8,Nbd4,Ba6,Rfe1,Nb5,Nf5,Bg5,Nxg5,Qxg5,d6,c6,Bxc6,Rc8,e6,fxe6,Rxe6+,Kf7,Re7+,Kf6,Rxd7,Qxf5,Qxf5+,Kxf5,Bxb5,Bxb5,Re7,Rcd8', 'Rd5+,Kf6,Rxb5', 'https://lichess.org/training/mvtLx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MVWo6', 'Rapid', 'chawki', 1800, 'imbecilexix', 1832, 'e3,e5,b3,d5,Bb2,Nd7,Nf3,Bd6,Qe2,Ngf6,h3,O-O,g4,Ne4,d3,Ng5,Nh4,c5,c4,d4,e4,Nxe4,Qxe4,Qxh4,Qg2,Nf6,Nd2,a5', 'Nf3,Qh6,g5', 'https://lichess.org/training/MVWo6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mVxnm', 'Rapid', 'alehhin', 1620, 'Ghassan89', 1629, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,Bf5,Bb5,Qc7,Nxd5,Qa5+,Nc3,a6,Ba4,b5,Bb3,e6,O-O,Nf6,d5,b4,dxe6,fxe6,Ne2,Rd8,Ned4,Nxd4,Nxd4,Qb6,Ba4+,Kf7,Be3,Bc5,c3,e5,Bb3+,Kg6,Qf3,exd4,cxd4,Bxd4,Qg3+,Ng4,Bf4,Kf6', 'Qh4+,g5,Qxg5#', 'https://lichess.org/training/mVxnm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MVxZY', 'Blitz', 'CM HabibAmini', 2300, 'itscominghome', 2264, 'd4,Nf6,Bf4,c5,d5,d6,Nc3,e6,e4,e5,Bg5,Be7,f4,Nxd5,Nxd5,Bxg5,fxg5,Qxg5,Nf3,Qd8,Bc4,O-O,O-O,Nc6,a4,Be6,b3,h6,c3,a6,Qe1,Rb8,a5,f5,Nh4,f4,Ng6,Rf7,Nb6,Bxc4,Nxc4,Qg5,Nh4,Qg4,h3,Qd7,Nf5,Rf6,Rd1,Qc7,Ncxd6,Rd8,Nc4,Rxd1,Qxd1,Nxa5,Qd5+,Kh7,Nxa5,Qxa5,Qxe5,Qb6,Qxf4,c4+,Kh2,Rg6,Nh4,Rf6,Qc1,cxb3,Rxf6,Qxf6,Nf3,Qb6,Qb2,a5,e5,a4,Nd4,Qc5,e6,Qe5+,g3,b5,Qb1+,g6,Qd3,b2,Qc2,a3,Qb3,Qe3,e7,Qxe7,Qxb5,Qf7,Kg2,a2,Qxb2,Qa7,Qa1', 'Qb7+,Nf3,Qb1', 'https://lichess.org/training/MVxZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvYCD', 'Blitz', 'Enigma_01', 1948, 'WIM cxrjs', 2429, 'd4,Nf6,Nf3,g6,c4,d6,Nc3,Bg7,e4,O-O,Be2,e5,O-O,Na6,a3,Qe8,d5,Nc5,Qc2,a5,b3,b6,Ne1,Bd7,Be3,Ng4,Bd2,h5,f3,Nh6,Nd3,f5,b4,axb4,axb4,Na4,Nxa4,Rxa4,Rxa4,Bxa4,Qc3,Bd7,Be3,f4,Bf2,g5,c5,bxc5,bxc5,g4,cxd6,cxd6,Qc7,Qe7,Ra1,Rc8,Qb7,Rc2,Ra8+,Kh7,Bd1,Rd2,Qb3,g3,hxg3,fxg3,Be1', 'Qh4,Bxd2,Qh2+,Kf1,Qh1+,Ke2,Qxg2+', 'https://lichess.org/training/MvYCD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvyKf', 'Rapid', 'barabelli', 1986, 'SuperflyMonk', 2137, 'e4,e5,Nf3,d5,Nxe5,Bd6,d4,dxe4,Bc4,Bxe5,dxe5,Qxd1+,Kxd1,Nc6,Re1,Bg4+,f3,exf3,Bb5,O-O-O+,Bd2,fxg2+,Kc1,Nd4,Bg5,f6,exf6,gxf6,Bxf6,Nxf6,Rg1,Ne2+,Bxe2,Bxe2,Rxg2,Rhe8,b3,h5,Nc3,Ba6,Kb2,Ng4,Rag1,b6,h3,Ne3,Rf2,c5,Rg7,c4,Rff7,Rd2,Rxa7,Rxc2+,Ka3,Rxc3', 'Ra8#', 'https://lichess.org/training/MvyKf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mvYsy', 'Blitz', 'dapina', 1622, 'shero73', 1627, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Bd6,O-O,O-O,c4,Bg4,Nc3,Nbd7,c5,Be7,Bg5,c6,Re1,h6,Bh4,Re8,h3,Bxf3,Bxf3,b6,b4,bxc5,bxc5,Qa5,Ne2,Bf8,Nc1,Qb4,Nb3,a5,Rb1,Qa4,Qc2,Rab8,Rxe8,Rxe8,Qd2,Nxc5,dxc5,Qxh4,Nxa5,Bxc5,Nxc6,Ne4,Bxe4,dxe4,Kh2,e3,fxe3,Bxe3,Qd7', 'Bf4+,Kg1,Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/mvYsy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mvyTg', 'Rapid', 'Saumya546756879', 1764, 'Moskvitin_Alex', 1789, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bb5,Bd7,Bc4,e6,O-O,a6,Re1,Qc7,Nxc6,bxc6,Bf4,Be7,Qd3,Rd8,Rad1,Bc8,Bxa6,Bxa6,Qxa6,O-O,e5,dxe5,Bxe5,Qc8,Qxc8,Rxc8,Bxf6,Bxf6,Rd7,Bxc3,bxc3,c5,Ra7,Rb8,Rc7,Rb2,Rxc5,Rxa2,Re2', 'Ra1+,Re1,Rxe1#', 'https://lichess.org/training/mvyTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvZ97', 'Rapid', 'challenger2008', 1938, 'mohammadghanem15', 1973, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,c3,Nf6,Bd3,Bxd3,Qxd3,e6,a3,Bd6,h3,Nc6,Nbd2,O-O,Nb3,Qb6,Nbd2,Rac8,O-O,Na5,b4,Nc4,Nxc4,Rxc4,Bb2,Rfc8,a4,Ne4,Nd2,Rxc3,Bxc3,Rxc3,Qe2,Rc2,Rfd1,Bxb4,Rab1,Qxd4', 'Nxe4,Rxe2,Rxd4', 'https://lichess.org/training/MvZ97');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MVZdc', 'Rapid', 'np70', 1838, 'joshua129', 1882, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,d5,Bxd5,Nxd5,exd5,Qxd5,Re1+,Be7,c3,d3,Bf4,O-O,Nd4,Nxd4,Qxd3,c5,cxd4,Qxd4', 'Qxd4,cxd4,Rxe7', 'https://lichess.org/training/MVZdc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MVZgq', 'Rapid', 'Baha_3777', 2124, 'wylyes', 1966, 'Nf3,d5,c4,d4,c5,Nf6,e3,dxe3,fxe3,e6,b4,c6,Bc4,Be7,O-O,Kf8,Nc3,Nbd7,d4,Nd5,Nxd5,exd5,Bd3,g6,e4,Nf6,Bh6+,Kg8,e5,Ne8,Qd2,Be6,Ng5,Bxg5,Bxg5,Qd7,Rf3,h5,Raf1,Ng7,a4,Rf8,b5,Nf5,bxc6,bxc6,Ba6,Kh7,h3,Kg8,Rb1,Kh7,Bf6,Ng7,Rb7,Qe8,Qg5,Qa8,g4,Rb8,gxh5,Nxh5,Bd3,Rxb7', 'Qxh5+,Kg8,Qxh8#', 'https://lichess.org/training/MVZgq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MvzQi', 'Rapid', 'Jrhuitron', 1646, 'jiano', 1637, 'd4,d5,Bf4,e6,Nf3,h6,e3,Nf6,Nbd2,Bd6,Ne5,Nc6,Ndf3,Ne4,Nxc6,bxc6,Ne5,Bb7,Bd3,Qf6,Bxe4,dxe4,h4,Bxe5,Bxe5,Qg6,g3,O-O,Bxc7,Rac8,Ba5,c5,Qd2,cxd4,O-O,dxe3,Qxe3,Qf5,Qxa7,Ba8,Rac1,Qf3,Qe3,Qf5,Bd2,Bd5,b3,Ra8,a4,Rfd8,Kh2,Bb7,Qf4,Ba6,c4,Rd3,Rc3', 'Qxf4,gxf4,Rxd2', 'https://lichess.org/training/MvzQi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mW3eR', 'Rapid', 'nezar_helal65', 1907, 'bl-alshakh', 1920, 'e4,c5,Nf3,g6,Nc3,Bg7,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bc4,e6,O-O,Ne7,Re1,d5,exd5,cxd5,Bb3,O-O,Bf4,a5,a3,Qb6,Na4,Qd8,Be5,Nf5,Bxg7,Kxg7,Nc5,Qb6,Nd3,a4,Ba2,Ba6,Rb1,Bc4,Bxc4,dxc4,Ne5,Rad8,Qf3,Nd4,Qc3,Qc5,Rbd1', 'Ne2+,Rxe2,Rxd1+', 'https://lichess.org/training/mW3eR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MW46q', 'Blitz', 'FloydNiceWeather', 1769, 'black_gr3y', 1779, 'g4,d5,e3,e5,Bg2,e4,h4,Nc6,Nc3,Be6,f3,Be7,g5,Bf5,fxe4,dxe4,Nxe4,Bd6,Nxd6+,Qxd6,Qf3,Bxc2,Bh3,Ne5,Qxb7,Nd3+,Ke2,Rd8,Nf3,Qg3,Qc6+,Kf8,Qxc2', 'Qf2+,Kd1,Qxf3#', 'https://lichess.org/training/MW46q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mw4kc', 'Rapid', 'davoglio007', 1967, 'ashrafEEH', 1986, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,a6,Ba4,b5,Bb3,Be6,Bxe6,fxe6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd3,e5,Be3,h6,f4,Nf6,Nc3,c4,Qe2,Be7,fxe5,dxe5,Rad1,Qc8,Bc1,O-O,Nd5,Bc5+,Kh1,Qg4', 'Nxf6+,Rxf6,Qxg4', 'https://lichess.org/training/Mw4kc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mw5fG', 'Rapid', 'Luk1986', 2029, 'charon7', 2096, 'Nf3,Nc6,d4,d5,e3,e6,Bd3,Nf6,O-O,Be7,c4,a6,a4,Nb4,Be2,dxc4,Bxc4,O-O,Bd2,a5,Bxb4,Bxb4,Nc3,c6,Rc1,Nd5,Na2,Be7,Qd2,Bd7,e4,Nb4,Nxb4,Bxb4,Qe3,Qe7,Ne5,Rfd8,Nxd7,Rxd7,Rfd1,Rad8,Rd3,c5,d5,exd5,Rxd5,b6,Rcd1,Kf8,Rxd7,Rxd7,Bd5,Rd6,b3,f6,Qh3,g6,Qh6+,Qg7,Qh3,Rd8,Qe6,Re8,Qxb6,Qe7,Rd3,Kg7,f3', 'c4,Bxc4,Bc5+,Qxc5,Qxc5+', 'https://lichess.org/training/Mw5fG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mW5kq', 'Rapid', 'Vaizeslav', 1854, 'andrew_dvornik_chess', 1790, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,Nf3,b6,cxd5,exd5,h3,O-O,e3,c5,dxc5,bxc5,b3,Qa5,Qd2,Bd8,Bd3,Re8,O-O,Ne4,Nxe4,dxe4,Qc2,exd3,Qxd3,Ba6,Qd5,c4,Qxa8,Bxg5,bxc4,Bxc4,Rfc1', 'Bd5,Qxb8,Rxb8', 'https://lichess.org/training/mW5kq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mw5qu', 'Rapid', 'W-Jarosch', 1805, 'souzamar', 1763, 'e4,e5,f4,exf4,Nf3,Be7,Nc3,Bh4+,Ke2,Nc6,d4,d6,Bxf4,Bg4,Qd3,Nb4,Qb5+,Nc6,Qxb7,Nxd4+,Kd3,Nxf3,gxf3,Bxf3,Rg1,Bf6,Nd5,Rb8,Nxc7+,Kd7,Qxa7', 'Qxc7,Qxc7+,Kxc7', 'https://lichess.org/training/Mw5qu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mW6q2', 'Rapid', 'kris3ds', 1754, 'Morphy04', 1734, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,d6,dxe5,Nxe5,Nxe5,dxe5,Bxf7+,Ke7,Qxd8+,Kxd8,O-O,Ke7,Bb3,Nxe4,Re1,Bf5,f3,Nd6,Rxe5+,Kf6,f4,Nf7,Re1,Bc5+,Kh1,Nd6,Nc3,Rhe8,Nd5+,Kf7,Nxc7+,Kf8,Rxe8+,Rxe8,Nxe8,Kxe8,Bd2,Ne4,Re1,Kd7,Ba4+,Kd6,Re2,Nf2+,Kg1,Ng4+,Kf1,Nxh2+,Ke1,Ng4,a3,a6,Bb4,Bxb4+,axb4,b5,Rd2+,Kc6,Bb3,Ne3,g3,g6,Ke2,Ng4,Bd5+,Kc7,Bg8,h6,c3,Nf6,Bf7,Ne4,Rd4,Nxg3+,Kf3,Nh5,c4,Nf6,Rd1', 'Bg4+,Kf2,Bxd1', 'https://lichess.org/training/mW6q2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MW72I', 'Rapid', 'Vavelya', 1789, 'Rustem_Kozhakhmet', 1810, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Bc4,Nf6,O-O,Nbd7,Nc3,Be7,Bg5,O-O,Rad1,h6,Bh4,Nh7,Bxe7,Qxe7,Nd5,Qc5,Qb3,Ng5,Qxb7,Nb6,Nxb6,axb6,Qd5,Qb4,Bb3,Nxe4,Rfe1,Ng5,Rxe5,Rae8,Rde1', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/MW72I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MW7qO', 'Rapid', 'vtornir', 1879, 'lyapa', 1926, 'c4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Bb4,Bg5,Bxc3+,bxc3,O-O,e3,Ne5,Be2,d6,O-O,h6,Bh4,Ng6,Bg3,Re8,Qc2,Ne4,Bf3,Nxg3,hxg3,Ne5,Be2,Be6,Nxe6,Rxe6,Qb3,Rb8,Rad1,Qe7,Rd5,c6,Rd2,Rd8,Rfd1,b6,Qa3,c5,Rd5,f5,Qa4,Qf7,Qc2,Qf6,Qd2,Nf7,Qc2,g6,Qa4,Re7,Qc6,Rde8,Rxd6,Nxd6,Rxd6,Re6', 'Qxe8+,Rxe8,Rxf6', 'https://lichess.org/training/MW7qO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MW8fR', 'Rapid', 'TheQuackon', 1660, 'CobaCoba123', 1648, 'd4,Nf6,Bf4,Nc6,e3,e6,Nf3,Nb4,c3,Nbd5,Bg5,h6,Bh4,Be7,Bd3,Nh5,Bxe7,Qxe7,Nbd2,a6,Qc2,b5,Ne5,Bb7,Nxf7,Nxe3,fxe3,Bxg2,Rg1,Qh4+,Kd1,Qf2,Rxg2,Qxg2,Nxh8,O-O-O,Nf7,Rf8,Ne5,Qg1+,Nf1,Rf2,Be2', 'Rxf1+,Kd2,Rxa1', 'https://lichess.org/training/MW8fR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MW8lj', 'Blitz', 'justblindfold1', 1795, 'Florian33000', 1849, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,Re1,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,O-O,f3,Rac8,a3,a6,Nd5,Nxd5,exd5,Ne5,b3,h5,Rc1,Rc7,Qe2,Rfc8,c4,b5,cxb5,Rxc1,Rxc1,Rxc1+,Bxc1,axb5,Nxb5,Qb7,Bb2,Qxd5,f4,Ng4,Bxg7,Kxg7,Qb2+,Kh7,Nd4,Qe4,Qd2', 'Qb1+,Qe1,Qxe1#', 'https://lichess.org/training/MW8lj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MwdlJ', 'Rapid', 'hasan-ahmadian', 1790, 'bpchassain', 1774, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,d5,exd5,Nxd5,Nc3,Be6,Nxd5,Bxd5,Nf3,Bxc4,dxc4,Qxd1+,Kxd1,Nc6,c3,O-O-O+,Kc2,f6,Be3,Bxe3,fxe3,e4,Nd4,Ne5,b3,g6,Rhf1,f5,Ne6,Rd6,Nf4,g5,Nd5,Rf8,Rxf5,Rxf5,Ne7+,Kd7,Nxf5,Rd3,Rd1,Ke6,Nd4+,Kf6,Rf1+,Kg6,Rf5,Nc6,Rd5,Rxe3,Nxc6,bxc6,Rd7,Rg3,Rxc7,Rxg2+,Kb1,e3,Re7,e2,Kc1,Kf6,Re3,Kf5,Kd2,Kf4,Rxe2,Rxe2+,Kxe2,Kg3,Kf1,Kxh3,Kg1,g4', 'b4,Kg3,b5,c5,a4,Kf4,a5', 'https://lichess.org/training/MwdlJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MWdny', 'Blitz', 'IM Srinath_rao', 2595, 'GM Grandelicious', 2693, 'e4,c6,d4,d5,f3,e6,Nc3,Bb4,Be3,Ne7,a3,Bxc3+,bxc3,b6,Nh3,O-O,Bd3,Ba6,O-O,Bxd3,Qxd3,Nd7,Rae1,Rc8,e5,c5,Bg5,Qe8,Bxe7,Qxe7,f4,cxd4,cxd4,Rc4,Ng5,g6,Re3,Rfc8,Rf2,Nf8,h4,Qc7,Ree2,Rc3,Qa6,Qc4,Qxa7,Qc7,Qxc7,R8xc7,Rf3,Nd7,Ree3,Rxc2,Rb3,Rd2,Rfd3,Ra2,Rdc3,Rc4,Nf3,Kf8,h5,Ke7,hxg6,hxg6,Kh2,b5,Kg3,f6,Re3,Rcc2,exf6+,Nxf6,Nh4,Ne4+,Kg4,Kf6,Rxb5,Rc4,Rb8,Rxd4,Rg8,g5,Rg6+,Kf7,fxg5,Nd6+,Kh5', 'Rxh4+,Kxh4,Nf5+,Kh5,Nxe3', 'https://lichess.org/training/MWdny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mwEbn', 'Blitz', 'elkbeerawi', 1607, 'JhannerK', 1595, 'e4,b6,Nf3,Bb7,Bc4,e6,d3,d5,exd5,exd5,Bb3,c5,c4,d4,Ba4+,Nc6,Bf4,Bd6,Bxd6,Qxd6,O-O,Ne7,Re1,O-O,Qe2,Ng6,Nbd2,Rfe8,Qd1,Nf4,Rxe8+,Rxe8,Ne4,Qg6,g3,Nh3+,Kg2,Nf4+,Kg1,Re6,Nh4,Nh3+,Kg2,Qh6,Kxh3,g5,Qg4,Rg6,Bxc6,Bxc6,Qc8+,Kg7,Kg2,gxh4,Qf5,Bxe4+,dxe4,h3+,Kh1,Qd2,Qe5+,Rf6,Rf1,Qxb2,Qg5+,Rg6,Qe5+,Rf6,Qg5+,Rg6,Qe5+,Kg8,Qe8+,Kg7,Qe5+,f6,Qe7+,Kh6,Qf8+,Kh5,Qf7,Kh6,Qf8+,Kg5,f4+,Kg4', 'Qc8+,f5,Qxf5#', 'https://lichess.org/training/mwEbn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MWFul', 'Rapid', 'sevokalanj', 1847, 'BMPlayingChess', 1847, 'e3,c6,d4,d5,f4,Bf5,Nf3,e6,Nbd2,Nf6,Bd3,Bxd3,cxd3,Ng4,Qe2,Bb4,a3,Bxd2+,Bxd2,Nd7,Ne5,Ngxe5,fxe5,O-O,O-O,c5,dxc5,Nxc5,Bb4,b6,d4,Nb3,Bxf8,Nxa1,Bxg7,Kxg7,Rxa1,Rc8,Rf1,Qe7,g3,Qg5,Qf2,Qg6,h4,Rc7,h5,Qxh5', 'Qf6+,Kf8,Qd8+', 'https://lichess.org/training/MWFul');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MWGxq', 'Rapid', 'Abhishekc', 1786, 'KoelleGM', 1886, 'd4,Nf6,c4,e6,Nf3,d5,Bg5,c6,e3,Nbd7,Bd3,Bb4+,Nbd2,O-O,a3,Bxd2+,Qxd2,c5,O-O,b6,Ne5,Qc7,f4,Bb7,Rac1,h6,Bh4,dxc4,Bxc4,Nxe5,fxe5,Ne4,Qd3,Qc6,Qc2,b5,Bd3,Rac8,Bxe4,Qxe4,Qxe4,Bxe4,Be7,Rfe8,Bxc5,a5,Rf4,Bd5,Rcf1,Rc7,Rh4,Rb7,Ra1,b4,axb4,axb4,Kf2,b3,g4,f6,exf6,Rf7,Ke2,Rxf6,Rh3', 'Bc4+,Ke1,Rf1+', 'https://lichess.org/training/MWGxq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mWikH', 'Blitz', 'Fenf88', 2357, 'IM Papagayo', 2631, 'e4,c5,Nf3,e6,b4,cxb4,d4,Nf6,Bd3,d5,e5,Ne4,O-O,Nc6,a3,bxa3,c4,a2,Nbd2,f5,exf6,Nxf6,cxd5,exd5,Re1+,Be7,Rxa2,O-O,Bb1,Bd6,Nf1,Bg4,h3,Bxf3,Qxf3,Ne4,Qh5,Kh8,Rxe4,dxe4', 'Bxe4,g6,Bxg6', 'https://lichess.org/training/mWikH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MWjEg', 'Blitz', 'maestro8914', 1787, 'irpichik1', 1837, 'e4,b6,Nf3,Bb7,d3,Nf6,g3,e6,Bg2,Be7,O-O,d5,e5,Nfd7,Re1,c5,c3,Nc6,Nbd2,Qc7,Qe2,a5,Nf1,d4,h4,dxc3,bxc3,Rb8,N1h2,O-O,Ng4,b5,Bf4,b4,c4,Nd4,Nxd4,cxd4,Be4,Nc5,Bxh7+,Kxh7,Nf6+,gxf6,Qh5+,Kg8,Bh6,Qc6', 'Qg4+,Kh7,Qg7#', 'https://lichess.org/training/MWjEg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mwKBs', 'Rapid', 'dzivi', 1815, 'angler68', 1869, 'e4,e6,d4,c5,c3,cxd4,cxd4,Bb4+,Nc3,Nf6,Bd3,O-O,a3,Bxc3+,bxc3,d6,Bg5,h6,Bh4,g5,Bg3,Qe7,Nf3,Kh8,O-O,e5,dxe5,dxe5,Qc2,Nc6,Nd2,Nh5,Nc4,Nxg3,fxg3,f6,Be2,Be6,Rab1,b6,Ra1,Bxc4,Bxc4,Na5,Bd5,Rac8,c4,b5,Qc3,Nxc4,Bxc4,Rxc4,Qa5,Qc5+,Kh1,Qb6,Qe1,Qc6,Qe3,Rxe4,Qxa7,Ra4,Qe7,Raa8,Rac1,Qe8,Qd6,Rd8,Qb6,Rb8,Qd6,Rd8,Qb6,Rb8,Qd6,Qd8,Qc6,Rb6,Qe4,Qd4,Qg6,f5,Qh5,Qg4', 'Qxg4,fxg4,Rxf8+', 'https://lichess.org/training/mwKBs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MWKmH', 'Rapid', 'axpol', 1729, 'scardaccione', 1648, 'e4,c5,Nc3,d6,d3,Nf6,g3,Nc6,Bh3,Bxh3,Nxh3,e6,Bd2,Be7,Qf3,Nd4,Qd1,O-O,f4,a6,e5,Ne8,exd6,Nxd6,Ne4,b6,c3,Nc6,Nxd6,Qxd6,Ng5,Qxd3,Qf3,Qf5', 'Qxc6,Bxg5,fxg5', 'https://lichess.org/training/MWKmH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MwLcQ', 'Rapid', 'Violator71', 2000, 'yazan101', 1939, 'b3,Nc6,Bb2,Nf6,e3,g6,d4,d6,c4,Bg7,Nc3,O-O,Nf3,Bg4,Be2,e5,a3,Re8,h3,exd4,Nxd4,Bxe2,Ncxe2,Ne4,O-O,Qf6,Rb1,Qg5,Nxc6,bxc6,Bxg7,Kxg7,Qd4+,Kg8,Nc3,c5', 'Nxe4,cxd4,Nxg5', 'https://lichess.org/training/MwLcQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mwMX2', 'Bullet', 'tenspeed', 1778, 'anthco', 1716, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Nf6,c3,d5,exd5,exd5,Re1+,Be7,Bb5,a6,Bxc6+,bxc6,d4,O-O,Bg5,Re8,Bxf6,Bxf6,dxc5,Rb8,b4,Bg4,Rxe8+,Qxe8,Qd3,Bxf3,gxf3,Qe5,Qe3,Qf5,Nd2,Qc2,Qf4,Re8,Nb3,Qxc3,Rc1,Qb2,Qd6,Qxa2,Qxc6,Rf8,Qxd5,h6,c6,Re8,Qc4,Re2,Rf1,Rc2,Qd5,Bh4,c7,Rxf2,Rxf2', 'Qxf2+,Kh1,Qf1#', 'https://lichess.org/training/mwMX2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MWNgr', 'Rapid', 'adrusyajeevi', 1625, 'nikolsen', 1630, 'e4,e5,Nc3,Bc5,d3,Nc6,g3,Nf6,Bg2,h6,Nf3,d6,O-O,O-O,Be3,Nd4,Ne2,Bg4,Nfxd4,exd4,Bd2,Qd7,Qe1,Bh3,f3,Bxg2,Kxg2,d5,a3,dxe4,dxe4,Rfe8,Qd1,Qc6,Nc1,Nd7,Nd3,Bb6,Be1,Ne5,Nb4,Qe6,Nd5,Nc4,Bf2,Rad8,Nf4,Qe7,Rb1,Ne3+,Bxe3,dxe3,Nd3,c5,c4,Qe6,Qc2,Rd4,b3,Red8,Nf4,Rd2+,Kg1,Qd6,Qc3,e2,Rfe1,Rd1,Kf2,Rxb1,Rxb1,Qd1,Qe1,Qd4+,Kg2,Qd2,Qxe2,Qxe2+,Nxe2,Rd2,Kf2,Ra2,a4,Ba5,Rd1,Rd2,Rxd2,Bxd2,h3,Kf8,Ng1,Ke7,Ke2,Bb4,Kd3,Kd6,Ne2,Be1,g4,b6,Nc3', 'Bxc3,Kxc3,Ke5', 'https://lichess.org/training/MWNgr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mwNHU', 'Rapid', 'Vlarmenia', 1625, 'Marcellgc', 1642, 'd4,d5,c4,dxc4,e4,e5,d5,Nf6,Nc3,Bb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/mwNHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mwObm', 'Rapid', 'rikianrux', 1839, 'Lucky_stenitz', 1822, 'd4,d5,c4,c6,Nc3,Bg4,cxd5,cxd5,Qb3,b6,Qxd5,Qxd5,Nxd5,Kd8,Bf4,Nd7,e4,e6,Nc7', 'Bb4+,Bd2,Bxd2+,Kxd2,Kxc7', 'https://lichess.org/training/mwObm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mWRru', 'Rapid', 'Rec0rd', 1604, 'DenWalker', 1637, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,g6,Qd2,Bg7,O-O-O,O-O,f3,b5,a3,Be6,g4,Nbd7,g5,Ne8,h4,f6,Be2,Rc8,h5,Rf7,hxg6,hxg6,Rh2,fxg5,Bxg5,Ndf6,Nxe6,Qd7,Nxg7,Rxg7,Rdh1,Kf7,Nd5,Qc6,Rh7,Nxd5,exd5,Qc5,Rxg7+,Nxg7,c3,a5,Qf4+,Kg8,Bxe7,b4,axb4,axb4,Qd2,bxc3,Qxc3', 'Qe3+,Kb1,Rxc3', 'https://lichess.org/training/mWRru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mwrwA', 'Blitz', 'Kalash_1', 1577, 'sagar_li', 1529, 'e4,e6,Nf3,d6,d4,Ne7,Bc4,c6,Ng5,Qa5+,Nc3,d5,exd5,cxd5,Qf3,dxc4,Qxf7+,Kd8,Qf3,Qf5,Qg3,h6,Nb5,hxg5', 'Qc7+,Ke8,Nd6#', 'https://lichess.org/training/mwrwA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mwSIm', 'Rapid', 'Marvin033248', 1854, 'calderon41', 1943, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Qc2,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Be3,Bb4+,Nc3,Bxc3+,bxc3,Qxe5,Bd3,Nf6,O-O,Ng4', 'Qa4+,Bd7,Qxg4', 'https://lichess.org/training/mwSIm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mwtNA', 'Classical', 'MathieuP', 1822, 'niass42', 1755, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,Nc6,Bd3,a6,Nge2,Rb8,a4,Nb4,Ng3,Nxd3+,Qxd3,e5,d5,Bd7,Qd2,c6,Bh6,cxd5,Bxg7,Kxg7,Nxd5,Nxd5,exd5,b5,axb5,axb5,O-O,Qb6+,Kh1,bxc4,Rf2,Qd4,Ne4,Qxd2,Rxd2,Bf5,Nxd6,Bd3,Rc1,Rb4,Ne4,Rd8,Nc3,f5,Re1,Kf6,g4,h6,Kg2,h5,h3,hxg4,fxg4,f4,Ne4+,Ke7,d6+,Ke6,Nc5+,Kxd6,Nxd3,cxd3,Rxd3+,Kc7', 'Rc1+,Kb7,Rxd8', 'https://lichess.org/training/mwtNA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mwTwM', 'Rapid', 'naveed159', 1871, 'DEXTER69', 1685, 'd4,Nf6,Nf3,d5,a3,Bf5,c4,dxc4,Bf4,Nc6,e3,b5,Nc3,a6,Be2,Nd5,Ne5,Nxc3,bxc3,Nxe5,Bxe5,f6,Bg3,e6,e4,Bg6,Bf3,Rb8,O-O,Bd6,e5,fxe5,Bc6+,Kf7,Qf3+,Bf5,dxe5,Bc5,Rad1,Qg5,Rd7+,Kg6,h4,Qg4,h5+,Qxh5', 'Rxg7+,Kxg7,Qxh5', 'https://lichess.org/training/mwTwM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mWUgi', 'Classical', 'Bharathrajhm123', 1840, 'Drezin', 1764, 'e4,c6,d4,d5,f3,dxe4,fxe4,Nf6,Nc3,Bg4,Nf3,e6,Bd3,Bb4,O-O,O-O,Bg5,Bxf3,Rxf3,Qxd4+,Kh1,Nbd7,Rg3,Bd6,Rh3,h5,e5,Ng4', 'Bh7+,Kh8,Qxd4', 'https://lichess.org/training/mWUgi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MWUx4', 'Blitz', 'doctorfeelgood', 1838, 'DrunkySkunky', 1910, 'e4,e6,f4,d5,exd5,exd5,Nf3,Nf6,d3,c6,Be2,Bc5,a3,Nbd7,d4,Bd6,O-O,Qc7,Kh1,Bxf4,Bxf4,Qxf4,Ne5,Qg5,Bg4,Nxe5,Bxc8,Rxc8,dxe5,Qxe5,Re1,Ne4,Nc3,O-O,Qf3,Rfe8,Rf1,Rc7,Rae1,Qd4,Ne2,Qxb2,Qf4,Rce7,Kg1,Qxc2,Ng3,Nxg3', 'Qxf7+,Rxf7,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/MWUx4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MwvCr', 'Rapid', 'guillermovalls', 1802, 'dbradt2001', 1671, 'e4,e5,f4,exf4,Nf3,Nc6,d4,d5,exd5,Qxd5,Nc3,Qf5,Bd3,Qg4,O-O,Nf6,h3,Qg3,d5,Nb4,a3,Nbxd5,Nxd5,Nxd5,Qe2+,Be7,c4,Bxh3,cxd5,O-O,Bd2,Rfe8,Qf2,b6,Qxg3,fxg3,Bf4,Bg4,Bxg3,Bc5+,Bf2,Bxf2+,Kxf2,Rad8,Bb5,Re4,Bc6,Rf4,Rfe1,h5,Re8+,Rxe8,Bxe8,h4,Ke3,Rf5,Rd1', 'Bxf3,gxf3,Re5+,Kf4,Rxe8', 'https://lichess.org/training/MwvCr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mWvMM', 'Blitz', 'FM jhedigm', 2461, 'CM j_coca', 2349, 'd4,g6,e4,Bg7,c4,d6,Nc3,Nh6,f3,O-O,Be3,Kh8,Qd2,Ng8,h4,h6,Nh3,Nc6,d5,Nb8,Nf2,e5,h5,g5,g4,Bd7,c5,a6,cxd6,cxd6,Be2,Nf6,Bxg5,hxg5,h6,Nh7,hxg7+,Kxg7,O-O-O,Rh8,Rh5,Nf8,Rxg5+,Ng6,Rh1,Rxh1+,Nxh1,Be8,Ng3,Nd7,Nf5+,Kg8,Nxd6,Nf8,Nf5,Rc8,Rh5,Nf4,Rh6,N8g6,Bd1,Qg5,Kb1,Bd7,Rxg6+,fxg6,Nd6,Rf8,Nxb7,Bb5,a4,Bd3+,Ka2,a5,Nxa5,Ra8,b4,Qe7,Kb3,Rxa5,bxa5,Qc5,Bc2,Qc4+,Kb2,Qb4+,Kc1,Qa3+,Kd1,Qa1+,Nb1,Bxc2+,Qxc2,Qd4+,Kc1,Nd3+,Kd2', 'Nb4+,Kc1,Nxc2', 'https://lichess.org/training/mWvMM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MWxqy', 'Rapid', 'patranasia', 1738, 'android_1997', 1763, 'g3,e5,Bg2,Nf6,d3,d5,Nf3,Nc6,O-O,Be7,Re1,O-O,Nc3,Bg4,e4,Bb4,Bd2,Nd4,h3,Bxf3,Bxf3,c6,Bg2,Qa5,a3,Bxc3,bxc3,Ne6,c4,Qd8,exd5,cxd5,Rxe5,dxc4,dxc4,Qd4,Re3,Qxc4,Bc3,Rad8,Qf3,Nd5,Re4', 'Qxc3,Qxc3,Nxc3', 'https://lichess.org/training/MWxqy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mWyWx', 'Rapid', 'BIA1970', 1924, 'Lauritz13', 1972, 'c4,e5,Nc3,Bc5,Nf3,d6,g3,a6,Bg2,Nc6,O-O,Nf6,d3,h5,Bg5,Be6,a3,Nd4,Nxd4,Bxd4,Qd2,Rb8,Rab1,Qd7,Bxf6,gxf6,Ne4,Ke7,h4,Bh3,e3,Bxg2,Kxg2,Bb6,Qe2,Rbg8,Qf3,f5,Nc3,c6,b4,Rg6,Rfd1,f4,exf4,exf4,Re1+,Kd8,Re4,fxg3,fxg3,Rhg8,Ne2,f5,Rf4,Rg4,Rxg4,fxg4,Qf6+,Kc7,d4,Re8,Nf4,Qh7,Rb2', 'Qe4+,Kh2,Bxd4', 'https://lichess.org/training/mWyWx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mx0S7', 'Rapid', 'Soccerlover321', 2130, 'TENGIZ12', 2106, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Nc6,Ngf3,a5,a3,cxd4,cxd4,Qb6,Qa4,Be7,Bb5,O-O,O-O,Ndb8,Kh1,Na7,Bd3,Nbc6,Rb1,Bd7,Qd1,Nxd4,Nxd4,Qxd4,Nc4,Qc5,Be3,Qc7,Nb6,Rad8,Rc1,Qb8,Qe1,Nc6,Qg3,g6,Nxd7,Rxd7,f5,exf5,Bxf5,Rdd8,Bh6,Rfe8,Bf4,Kg7,e6,Qa7,exf7,Rf8,Rxc6,bxc6,Be5+,Kxf7,Bxg6+,Ke6,Re1,Rf1+,Rxf1,hxg6,Bc7,Kd7,Rf7,Qxc7', 'Rxe7+,Kxe7,Qxc7+', 'https://lichess.org/training/Mx0S7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mX1iI', 'Blitz', 'marton01', 1892, 'Sanchofe86', 1864, 'e4,e6,Nf3,c6,Bc4,d5,exd5,exd5,Bb3,Be7,d4,Nf6,Nc3,Bg4,O-O,Bxf3,Qxf3,O-O,Re1,Bd6,Na4,Nbd7,c3,b5,Nc5,Nxc5,dxc5,Bxc5,Bc2,Re8,Bg5,Be7,Qh3,h6,Bh4,g5,Bg3,Bd6,Qxh6,Bxg3,hxg3,Rxe1+,Rxe1,g4,Qg5+,Kf8,f3,gxf3,gxf3,Qd6,f4,Re8,Qh6+,Kg8,Rxe8+,Nxe8,Qh7+,Kf8,Qh8+,Ke7,Qh4+,Kd7,Bf5+,Kc7,Qh7,Qf6,Kg2,Nd6,g4,Kb6,Qh1,Nxf5,gxf5,Qxf5,Qg1+,Kb7,Kf3,Qe4+,Kg4,f5+,Kg5,Qe6,Qd4,Qe4,Qg7+,Kb6,Qd4+,c5,Qf6+,Ka5,Qxf5,Qe7+,Qf6', 'Qxf6+,Kxf6,d4,cxd4,cxd4,f5,d3,Ke7,d2', 'https://lichess.org/training/mX1iI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MX1lF', 'Rapid', 'amolawadhiya', 2140, 'Demid2005', 2115, 'e4,c5,Nf3,d6,h3,Nf6,d3,Nc6,c3,e6,a3,Be7,Nbd2,b5,Be2,Bb7,O-O,O-O,d4,cxd4,cxd4,a6,Bd3,Qb6,Nb3,Rfd8,Be3,Qc7,Rc1,Rac8,Bb1,Qb8,Bg5,Rc7,Qd3,g6,Bd2,Bf8,d5,exd5,exd5,Nxd5,Qxd5,Ne5,Qd4,Bxf3,Rxc7,Qxc7,Ba5,Qb7,Bxd8,Bxg2,Nd2,Bxf1,Kxf1,Qh1+,Ke2,Bh6,Be4,Qxh3,Qxd6,Qg4+,Bf3', 'Nxf3,Nxf3,Qe4+,Kf1,Qxf3', 'https://lichess.org/training/MX1lF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mx1tB', 'Rapid', 'enter4ever', 1945, 'SegoQQ', 1980, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Be3,Qb6,Qd2,Bd7,Nf3,Rc8,Bd3,cxd4,cxd4,Bb4,Nc3,f6,Rc1,fxe5,Nxe5,Nxe5,dxe5,d4,Bxd4,Bc5,Bxc5,Qxc5,Qe2,Ne7,O-O,O-O,Qh5,Ng6,Bb1,Qxe5', 'Bxg6,Qxh5,Bxh5', 'https://lichess.org/training/Mx1tB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mx2Hf', 'Blitz', 'firmansyah1703', 1650, 'raf999', 1616, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,e5,Nf3,Bb4,Bg5,Bxc3+,bxc3,Qa5,Qd3,Nxe4,Qxe4,Qxc3+,Bd2,Qxa1+,Ke2,O-O,h4,Rd8,Ng5,Nd4+,Kd3,g6,h5,Ne6,hxg6,fxg6,Nxh7,Qd4+,Qxd4,Nxd4,Nf6+,Kf7,Nd5,d6,Rh7+,Kg8,Rc7,Be6', 'Nf6+,Kh8,Rh7#', 'https://lichess.org/training/Mx2Hf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mx4GM', 'Blitz', 'Neocortexsupplier', 1572, 'Gabale03', 1641, 'c4,g6,d4,Bg7,e4,e6,f4,Ne7,g4,d6,h4,c5,d5,exd5,cxd5,Qa5+,Ke2,Bxg4+,Nf3,O-O,Rg1,h5,Be3,Bxb2,Qc2,Bxa1,Rxg4,hxg4,Ng5,Qb5+,Kf2,Qd7,h5,Kg7,h6+,Kxh6,Kg3,Bf6', 'Qh2+,Kg7,Qh7#', 'https://lichess.org/training/mx4GM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mx5f7', 'Rapid', 'lucabona777', 1934, 'renecolque', 1901, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,d6,c3,Nbd7,Be2,Nh5,Bg5,h6,Bh4,g5,Bg3,Nxg3,hxg3,e5,Nbd2,b6,dxe5,Nxe5,Nxe5,Bxe5,Nf3,Qf6,Nxe5,dxe5,Bf3,c6,Qa4,Bb7,O-O-O,O-O,Rd7,b5,Qc2,Bc8,Rc7,Bf5,Qe2,Rfc8,Rxc8+,Rxc8,Rd1,Qe6,e4,Bg6,Bg4,f5,exf5,Bxf5,Bxf5,Qxf5,g4,Qf4+,Kb1,Rc7,Rd8+,Kg7,g3,Qf6,Re8', 'Qg6+,Qc2,Qxe8', 'https://lichess.org/training/mx5f7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MX66G', 'Rapid', 'Mislilac', 2025, 'Sangam997', 2054, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bg5,d6,e4,Nbd7,Be2,e5,d5,Nc5,b4,Ncd7,O-O,a5,a3,h6,Be3,Ng4,Bd2,f5,h3,Ngf6,exf5,gxf5,Qc1,Kh7,bxa5,Rxa5,Nb5,Ra8,a4,Nc5,a5,e4,Nfd4,Nfd7,Bc3,Ne5,Qb2,c6,Na3,Qg5,Kh1,f4,f3,e3,dxc6,Rg8,cxb7,Nxb7,Ne6,Bxe6,Qxb7,Qg3,Bxe5,dxe5,a6,Rab8,Qe4+,Kh8,a7,Bxh3,Rg1,Bf6,axb8=Q', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/MX66G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mx6DC', 'Rapid', 'knghite001', 1929, 'SalahDinAsaad', 1814, 'Nf3,d6,a3,e5,b4,e4,Ng1,f5,e3,Nf6,Bb2,Be7,d3,d5,c4,c6,dxe4,Nxe4,Nf3,O-O,cxd5,cxd5,Be2,Nc6,O-O,Be6,Nc3,Bf6,Qc2,Rc8,Qb3,Qe7,Nxe4,dxe4,Bxf6,Qxf6,Bc4,exf3', 'Bxe6+,Kh8,Bxc8,Qg6,g3', 'https://lichess.org/training/Mx6DC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mx70A', 'Blitz', 'FM fQ-System', 2336, 'AnSpaHain', 2104, 'd4,f5,e4,fxe4,Nc3,Nf6,Bg5,Nc6,d5,Ne5,Qe2,d6,O-O-O,c6,dxc6,bxc6,h4,Qa5,Kb1,d5,f4,Nc4,Bxf6,gxf6', 'Qh5+,Kd8,Bxc4', 'https://lichess.org/training/mx70A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mX7tz', 'Rapid', 'Tormey', 1793, 'ChessDiego87', 1795, 'e4,e6,b3,d5,e5,c5,Bb2,Nc6,Nf3,Qb6,Nc3,Nge7,Na4,Qc7,Nxc5,Nf5,Nd3,d4,Qe2,Bd7,g4,Nh4,Nxh4,O-O-O,Bg2,f5,gxf5,exf5,Bxc6,Bxc6,Rg1,g6,c3,dxc3,Bxc3,Be4,Nb2,Ba3,f3,Bc2,Rc1,Bxb2,Rxc2,Ba3,Qd1,Kb8,e6,Rhe8,Qe2,Rd6,Be5', 'Qxc2,Bxd6+,Bxd6', 'https://lichess.org/training/mX7tz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MX8bF', 'Blitz', 'Guigozz', 1801, 'wheredoyougo', 1657, 'd4,d5,c4,e6,Nc3,Bb4,g3,Nc6,Nf3,b6,Bg2,Bb7,a3,Bxc3+,bxc3,Nf6,Bg5,O-O,O-O,Na5,cxd5,Bxd5,Re1,h6,Bxf6,Qxf6,e4,Bc4,Ne5,b5,Nd7,Qe7,Nxf8,Rxf8,d5,exd5,exd5,Qd6,Qg4,Nb3,Ra2,Nc5,Rd2,Nb3,Rc2,Bxd5,Bxd5,Qxd5,Rce2,Nd2,Rd1,Nf3+,Kg2,Qxd1,Qxf3,Rd8,Re8+,Kh7', 'Qf5+,g6,Qxf7#', 'https://lichess.org/training/MX8bF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MX8wh', 'Rapid', 'Kriscarrascocoloane', 1874, 'uammannaq', 1867, 'c4,e5,Nc3,Nf6,g3,Be7,Bg2,c6,d3,O-O,Nf3,d6,O-O,h6,b4,Re8,a4,Nbd7,a5,a6,Rb1,Nf8,Qa4,Bd7,Qa3,Ne6,Qa2,Nd4,Nxd4,exd4,Ne4,Rb8,e3,dxe3,Bxe3,Nxe4,Bxe4,c5,b5,Bf6,Bf4,Be5,Bxe5,Rxe5,Rb2,h5,Ra1,Rg5,Qb1,axb5,cxb5,h4,Qc1,hxg3,fxg3,d5,Bg2,c4,dxc4,dxc4,Qxc4,Bxb5,Rxb5,Rxb5,Kh1,Rxa5,Rf1,Qd7,Bh3,Qxh3,Rxf7,Rc8,Rc7+,Kh8,Rxc8+,Kh7,Qg8+,Kg6,Qe8+,Kg5,Qe3+,Kg6,Qe8+,Kg5,Qe7+,Kg6,Qe4+,Kg5,Qf4+,Kg6,Rc1,Qe6,Rd1,Rd5,Rb1,b5,h4,Rf5,Qd2', 'Qe4+,Kh2,Qxb1', 'https://lichess.org/training/MX8wh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MxCHZ', 'Rapid', 'grendel_2013', 1971, 'ChristopherWalken', 2156, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bc5,O-O,O-O,Bxc6,bxc6,f3,f6,fxe4,fxe5,Rxf8+,Qxf8,exd5,Bxd4+,Kh1,Bg4,Qe1,cxd5,c3,Bb6,Be3,d4,Bg1,Re8,h3,Bf5,Nd2,d3,Ne4,Bxe4,Qxe4,Qd6,Rd1,d2,Qc4+,Kh8,Qf7,Rf8,Rxd2', 'Rxf7,Rxd6,cxd6', 'https://lichess.org/training/MxCHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MXcqo', 'Blitz', 'An2r31', 2223, 'FM Betonschach1', 2366, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Nxe5,O-O,Be2,Bxc3,bxc3,Nxe4,O-O,d6,Nf3,Bf5,Bb2,Nc6,d3,Nf6,c4,d5,Bxf6,Qxf6,cxd5,Nb4,c4,c6,a3,Na6,dxc6,bxc6,d4,Rad8,Qa4,c5,d5,Qb6,Nh4,Bd7,Qc2,Qf6,Nf3,Rfe8,Bd3,g6,Rfe1,Bg4,Nd2,Nc7,Ne4,Qd4,Qc3,Qxc3', 'Nxc3,Rxe1+,Rxe1', 'https://lichess.org/training/MXcqo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MxD37', 'Rapid', 'Paolo65', 1692, 'dibash99', 1779, 'e4,c5,Nf3,d5,exd5,Qxd5,d3,Nf6,Nc3,Qd7,Be3,b6,Be2,Bb7,Qd2,Ng4,Bf4,e6,Ne5,Nxe5,Bxe5,f6,Bg3,Bd6,Qe3,O-O,O-O,f5,Bxd6,Qxd6,Bf3,Bxf3,Qxf3,Nd7,Rae1,Ne5,Qg3,Rad8,Rxe5,f4,Qg5,h6,Qh5,Qd4,Rxe6,Rd5,Qg4,Rg5,Qh3,Kf7,Rfe1,f3,Qxf3+,Kg8,Qh3', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/MxD37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MxGMY', 'Rapid', 'Hamidreza52', 1997, 'Applesauce136', 1816, 'd4,Nf6,c4,c5,d5,b5,e3,bxc4,Bxc4,Bb7,Nc3,d6,e4,Nbd7,Nf3,g6,O-O,Bg7,Qb3,Rb8,Qa4,Qb6,Bb5,a6,Bc4,O-O,Qc2,Qa7,a3,Nb6,Be2,e6,Rd1,exd5,exd5,Nbxd5,Nxd5,Nxd5,Bc4,Nb6,Be2,Rbd8,Bf4,Nc8,Be3,Qb8,Bf4,Ba8,Rab1,Rfe8,Bxa6,Bxf3,gxf3,Qa8,Bxc8,Qxc8,Rxd6,Rxd6,Bxd6,c4,Bg3,Qc6,Kg2,Rc8,Qe4,Qb5,Qc2,Qa5,Qe2,Bxb2,Rxb2,Qxa3,Rc2,c3,Be5,Rc5,Bd4', 'Rg5+,Kf1,Qa1+,Qe1,Rg1+,Kxg1,Qxe1+', 'https://lichess.org/training/MxGMY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MXGPC', 'Rapid', 'UraLeo', 1623, 'muravej', 1826, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,Qc2,c6,e4,dxe4,Nxe4,Nxe4,Bxe7,Qxe7,Qxe4,Qb4+,Kd1,Qxb2,Rc1,Qxf2,Bd3,Qxa2,Ne2,Nd7,d5,cxd5,cxd5,Nf6,Bb5+,Bd7,Bxd7+,Kxd7,dxe6+,Qxe6', 'Qxb7+,Ke8,Qxa8+', 'https://lichess.org/training/MXGPC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mXh7S', 'Classical', 'lalitrathee', 1963, 'Baxter_Chimlambe', 2085, 'd4,g6,c4,Bg7,Nc3,b6,e4,Bb7,f3,e6,Be3,d6,Bd3,Ne7,Nge2,Nd7,O-O,O-O,Ng3,a5,Rc1,Rc8,Nb5,Nf6,Na7,Ra8,Nb5,c6,Nc3,Rc8,b3,Ne8,Bg5,Nc7,Bxe7,Bxd4+,Kh1,Qxe7,Bb1,Bg7,Qd2,Na6,Rfd1,Rcd8,Qf2,c5,Nb5,Rd7,Rc2,Bc6,Rcd2,Bxb5,cxb5,Nc7,a4,Rfd8,Nf1,Ne8,Ne3,Bd4,Qe2,d5,Ng4,Bg7,exd5,Rxd5', 'Rxd5,Rxd5,Rxd5', 'https://lichess.org/training/mXh7S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mxhLH', 'Classical', 'terminator87', 1695, 'GeneralBeefheart', 1767, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Qe2,d5,Bd3,f5,Nxe5,Bc5,f3,Nf2', 'Nc6+,Kf7,Nxd8+', 'https://lichess.org/training/mxhLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mxhTN', 'Rapid', 'elfinnsd', 1655, 'nazar111111', 1758, 'e4,d5,exd5,Qxd5,Nf3,Qd8,Bc4,e6,O-O,Nf6,c3,Be7,d4,c6,Bb3,O-O,Bc2,b5,Qd3,g6,Bg5,Nbd7,a4,a6,axb5,cxb5,b3,Bb7,Nbd2,Nd5,c4,Bxg5,cxd5,Bxd2,Qxd2,Bxd5,Qh6,Bxf3,gxf3,Qe7,Qf4,f5,Rfe1,Qf6,b4,Kg7,Bb3,Rfe8,Qg3,Nb6', 'Qc7+,Kh6,Qxb6', 'https://lichess.org/training/mxhTN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MXicy', 'Rapid', 'alberchess54', 1964, 'Ecolu', 2118, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Be2,g6,f3,Bg7,Be3,O-O,Qd2,a6,O-O-O,Qa5,Nb3,Qh5,g4,Qh3,Rdg1,h5,Rg3,Qh4,Bg5,Bh6,Bxh6,hxg4,Bxf8,gxf3,Bxf3,Kxf8,Qg5,Qh7,Nd5,Nxd5,exd5,Ne5,Qd2,Bf5,Kb1,Rc8,Nd4,Nxf3,Rxf3,Be4,Rhf1,f6,Ne6+,Ke8,R3f2,Rxc2,Qxc2,Bxc2+,Rxc2,g5,Kc1,Qh3,Ng7+', 'Kf7,Re1,Kxg7', 'https://lichess.org/training/MXicy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MxiYk', 'Rapid', 'gunjan21', 1699, 'dalf', 1753, 'd4,d5,Nf3,Nf6,c4,e6,Nc3,c5,dxc5,Bxc5,Bg5,d4,Bxf6,gxf6,Ne4,Qa5+,Qd2,Bb4,Nxf6+,Ke7,O-O-O,Bxd2+,Rxd2,Qxa2,Nxd4,Qa1+,Kc2,Qa4+,b3,Qa2+,Kc3,Qa5+,b4,Qa3+,Nb3,Nc6,Ne4,Qxb4+,Kc2,Qxc4+,Nc3,Nb4+,Kb2,Bd7,e3,Qa6,Bxa6,bxa6,Rhd1,Bb5,Nxb5,axb5,Rd7+,Kf6,R1d4,Nc6,Rf4+,Kg6,Rdxf7,a5,R7f6+,Kg7,Rxe6,Nb4,Re7+,Kg6,Rg4+,Kf6,Rb7,Rhc8,Nd4,Nd3+,Kb3', 'Nc5+,Ka2,Nxb7', 'https://lichess.org/training/MxiYk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mxJ8a', 'Rapid', 'Dr_psychopath', 1884, 'vladdobr', 1927, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Bd3,Bxd3,Qxd3,Nf6,Nf3,Nbd7,Bg5,e6,Ne4,Be7,Bxf6,Nxf6,O-O,Nxe4,Qxe4,Qd5,Qd3,O-O,c4,Qd7,Ne5,Qc7,Rfe1,Rad8,Rad1,Bf6,f4,Rd6,Qf3,Rfd8,Re4,Qb6', 'c5,Qxc5,dxc5,Rxd1+,Kf2', 'https://lichess.org/training/mxJ8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mxji2', 'Blitz', 'Shipustik', 2432, 'FM Chernov_M', 2300, 'c4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,e4,Bb4,f3,O-O,Be2,d5,Nxc6,bxc6,e5,Nd7,f4,Qb6,a3,Bxc3+,bxc3,f6,cxd5,exd5,e6,Nc5,f5,Ne4,Qd4,c5,Qxd5,Bb7,Qc4,Nd6,Qf4,Bxg2,Rg1,Be4,Bf3,c4,Be3,Qb2,Bxe4,Qxa1+,Kf2,Nxe4+,Qxe4,Qb2+,Kf3,Qxc3,e7,Rfe8,Qe6+,Kh8,Qf7,Rg8,Rg4,Qd3,Qh5,Qf1+,Bf2,Qd1+,Kg3,Qd3+,Kg2,Qd5+,Kh3,Rae8', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/mxji2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mxJQw', 'Rapid', 'Amatir1', 1655, 'edjord24', 1667, 'g3,d5,Bg2,e5,d3,Nf6,Nc3,Be6,Nf3,Nbd7,O-O,c6,e4,d4,Ne2,Be7,Ng5,Nc5,Nxe6,Nxe6,f4,exf4,Nxf4,Nxf4,Bxf4,O-O,e5,Nd5,Bd2,h6,Qg4,Kh7,Be4+,g6,Qh3,Ne3,Rf2,Bg5,Bxe3,Bxe3,Rf1,Bxf2+,Rxf2,Qe7,Rf4,Qxe5,Rh4,h5', 'Rxh5+,Qxh5,Qxh5+', 'https://lichess.org/training/mxJQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mxKQ3', 'Rapid', 'p__________________p', 1826, 'iese027', 1785, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,Nc3,Qe7,d3,g6,h3,Bxf3,Qxf3,Nf6,Bg5,Bg7,Qe3,O-O,f4,exf4,Qxf4,Nh5,Bxe7,Nxf4,Bxf8,Bxc3,Rxf4,Bd4+,Kh1,Rxf8,c3,Be5,Rf3,Rd8,d4,Bg7,Re1,c5,d5,c6,Rd3,cxd5,exd5,Rd7,Kh2,Kf8,Kg3,b5,Kf4,c4,Rdd1,a5,Re2,b4,cxb4,axb4,Rc1,c3,bxc3', 'Bh6+,Kf3,Bxc1', 'https://lichess.org/training/mxKQ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MXkyc', 'Classical', 'miltheo', 1624, 'Pauleee', 1702, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Qd6,Nf3,e5,d5,e4,Nfd2,Bg4,Qc2,Nxd5,Qxe4+,Be6,Nc3,Nxc3,bxc3,c6,O-O,Be7,Rd1,f5', 'Qxe6,Qxe6,Bxe6', 'https://lichess.org/training/MXkyc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mXL92', 'Rapid', 'ChiefJab', 1990, 'Klein-Meister', 2111, 'd4,Nf6,Bf4,d6,Nc3,g6,e4,Bg7,Qd2,c5,d5,O-O,Bh6,Qb6,Bxg7,Kxg7,O-O-O,Na6,f4,Nb4,Kb1,Bg4,Nf3,a5,h3,Bd7,g4,a4,e5,a3,exf6+,exf6,Bc4,axb2,Bb3,Rfe8,Rhe1,Qa5,Rxe8,Rxe8,Re1,Rxe1+,Qxe1,b5,Qe7,c4,Qxd7,cxb3,cxb3,Nd3,Nxb5,Qb4,Nbd4,Qc3,Qc6', 'Qc1+,Qxc1,bxc1=Q#', 'https://lichess.org/training/mXL92');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MXlF8', 'Blitz', 'mossdebs', 1959, 'castleden', 1832, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bd3,f6,exf6,Nxf6,Qe2,Bd6,a3,O-O,O-O,Qc7,b4,c4,Bc2,Rae8,Bg5,e5,dxe5,Nxe5,Nxe5,Rxe5,Qd2,Ne4,Bxe4,Rxe4,h3,Rf5,Be3,Rh5,Qd1,Rxh3,Qxd5+,Be6,Qxe4', 'Bh2+,Kh1,Bg1+,Kxg1,Qh2#', 'https://lichess.org/training/MXlF8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mxnHW', 'Rapid', 'vovan71', 1749, 'FadeToGray', 1794, 'e4,c5,Bc4,g6,Nc3,Bg7,Nf3,Nc6,d3,e6,Nb5,d5,exd5,exd5,Bb3,Qa5+,Nc3,d4,Bxf7+,Kxf7,Ng5+,Kf8,Qf3+,Nf6,Bd2,dxc3,bxc3,c4,O-O,Bg4,Qf4,Qe5,Qxc4,Rc8', 'Qf7#', 'https://lichess.org/training/mxnHW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MXoSJ', 'Rapid', 'Roman20052016', 2068, 'letabac', 1924, 'd4,Nf6,c4,e5,d5,Bc5,Bg5,h6,Bh4,g5,Bg3,d6,Nc3,a6,h4,g4,e4,h5,Nge2,Nbd7,Nc1,Ba7,b4,a5,b5,Nc5,Nd3,Ncxe4,Nxe4,Nxe4,Qe2,Nxg3,fxg3,Bd4,O-O-O,Bf5,Nf2,Qe7,Ne4,f6,a4,b6,Qd3,Qh7', 'Nxf6+,Ke7,Nxh7,Bxd3,Bxd3', 'https://lichess.org/training/MXoSJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MxovU', 'Classical', 'Bereza_Petro', 1994, 'Horned1', 1806, 'e4,d5,e5,c5,f4,Bf5,Bb5+,Nc6,Nf3,e6,O-O,f6,d4,cxd4,Nxd4,Bc5,Kh1,Ne7,exf6,gxf6,c3,O-O,Nxf5,Nxf5,Bd3,Qe8,Re1,Qg6,Rxe6', 'Ng3+,hxg3,Qh6+,Qh5,Qxh5#', 'https://lichess.org/training/MxovU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MXPNC', 'Blitz', 'DangBlunderBus', 1560, 'Juli02', 1552, 'e4,e5,f4,Nc6,Bc4,f5,Nc3,Nf6,fxe5,Nxe5,Bb3,fxe4,Nge2,d5,O-O,Bc5+,Kh1,O-O,Rxf6,Rxf6,Nxd5,Be6,Nxf6+,gxf6,Bxe6+,Kg7,Nf4,c6,Qh5,Qd4,Ne2,Qf2,h3,Ng6,Bf5,Qf1+,Kh2,Bd6+,Ng3', 'Bxg3+,Kxg3,Qf4#', 'https://lichess.org/training/MXPNC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MXQhv', 'Classical', 'CM chessentialsBLOG', 2411, 'NewgateBakedBeans', 2270, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,e6,c4,Nc6,Nc3,Be7,Be3,O-O,Be2,d5,cxd5,exd5,Nxc6,bxc6,e5,Nd7,f4,Bc5,Bxc5,Nxc5,Qd4,Ne6,Qf2,d4,Ne4,Qa5+,Kf1,Ba6,g3,d3,Bf3,Rab8,Kg2,c5,Rac1,c4,b3,cxb3,axb3,Rxb3,Rhd1,Qb4,Qxa7,Bb7,Qe3,Nd4,Rxd3,Rb2+,Rd2,Bxe4,Bxe4,Rxd2+,Kh3,Ne6,f5,Qxe4,Qxd2,Qxf5+,Kg2,Ng5,Qe2,Rd8,Re1,Rd2,Qxd2', 'Qf3+,Kg1,Nh3#', 'https://lichess.org/training/MXQhv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mxQUd', 'Rapid', 'Francois_Marias', 1886, 'CoachQuiroz_CGKLL', 1950, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,g6,cxd5,cxd5,Bf4,Bg7,e3,O-O,Qb3,Nc6,Bd3,e6,O-O,b6,Nb5,Ba6,Qa3,Bxb5,Bxb5,Na5,Bd6,a6,Bxf8', 'Bxf8,Qa4,axb5', 'https://lichess.org/training/mxQUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mXR93', 'Blitz', 'IamAShyGuy', 1797, 'NamChamKim', 1781, 'd4,d5,Bf4,Nf6,Nf3,Nh5,Bg3,Nxg3,hxg3,h6,e3,Bf5,Bd3,Bxd3,Qxd3,c6,Qf5,Nd7,Ng5,Nf6,Nd2,e6,Qf3,Qb6,Nb3,Bb4+,c3,Bd6,O-O-O,O-O-O,Nxf7,Rdf8,Nxh8,Ne4,Nf7,Qc7,Nxd6+,Qxd6,Qe2,Rxf2,Qg4,c5,Qxg7,Qa6,Kb1,c4,Qg8+,Kd7,Nc5+,Nxc5,dxc5,Qb5,Qg7+,Kc6,b4,Qa4,Rd2,Rxd2,Qg6', 'Qxa2+,Kc1,Qb2#', 'https://lichess.org/training/mXR93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mxRfa', 'Bullet', 'namdnasrm', 1768, 'Wassmann', 1887, 'c4,c6,d4,d5,Nc3,Nf6,Nf3,e6,g3,Bd6,cxd5,exd5,Bg2,O-O,O-O,Ne4,Re1,f5,Ne5,Nd7,Nxe4,fxe4,f4,exf3,Nxf3,Nf6,Bg5,h6,Bxf6,Qxf6,e4,dxe4,Rxe4,Bf5,Re2,Rad8,Ne5,Bxe5,Qb3+,Be6,dxe5,Qf7,Qe3,Bd5,Qxa7,Bxg2,Rxg2,Qd5,Qxb7', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/mxRfa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mxrt1', 'Rapid', 'Amerekov-Chess', 2218, 'SchachGriesheim', 2124, 'e4,c6,d4,d5,Nc3,b5,exd5,b4,Nce2,cxd5,Bf4,e6,Nf3,Nf6,Ne5,Be7,Ng3,O-O,Bd3,Qb6,O-O,Nc6,c3,bxc3,bxc3,Nxe5,Bxe5,Ne8,Qh5,g6,Qh6,Ba6,Rfb1,Qa5,Bxa6,Qxa6,h4,Bf6,f4,Bg7,Qg5,f6,Qg4,fxe5,fxe5,Bh6,h5,Rf4,Qh3,Kg7,Rb3,Rc8,Rab1,Rf7,Qg4,Bf4,hxg6,hxg6', 'Nh5+,Kf8,Nxf4', 'https://lichess.org/training/mxrt1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MXUbJ', 'Blitz', 'Bosak_Max', 1780, 'JcJ143', 1827, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,f4,Be7,Qf3,O-O,O-O-O,Nbd7,f5,Nc5,g4,e5,Nb3,b5,g5,Nxb3+,cxb3,Ne8,f6,gxf6,gxf6,Bxf6,Bh6,Bg7,Rg1,Kh8,Bxg7+,Nxg7,Nd5,Be6,Nf6,Rc8+,Kb1,Qb6,Bh3,Qc6,Rxg7', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/MXUbJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mxZIO', 'Blitz', 'MDsaliha', 1661, 'jkyoganantham', 2029, 'e4,e5,d3,Nc6,Nf3,Nf6,Be2,b5,O-O,b4,Bd2,a5,c3,bxc3,Bxc3,d6,Nbd2,Be7,Qb3,O-O,Nc4,Be6,Qa4,Nb4,Bxb4,Bxc4,Bxa5,Be6,Qb4,Qd7,a3,Rfb8,Qd2,c5,Bc3,c4,Ng5,cxd3,Bxd3,Rc8,Nxe6,Qxe6,f4,exf4,Qxf4,d5,exd5,Nxd5,Qf5,Nxc3', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/mxZIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mY0jz', 'Rapid', 'NotTheBest1976', 1966, 'wwxx', 2107, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,Be7,h3,O-O,Bd3,Nbd7,Nbd2,b6,e4,dxe4,Nxe4,Bb7,Qe2,h6,O-O,Re8,c3,Nxe4,Bxe4,Bxe4,Qxe4,Nf6,Qe2,Nd5,Bh2,Bd6,Ne5,Bxe5,Bxe5,f6,Bg3,c5,dxc5,bxc5,Qc4,Qb6,b3,Rad8,Rfe1,a6,Rad1,Qb5,Qxb5,axb5,c4,bxc4,bxc4,Nb6', 'Rxd8,Rxd8,Bc7,Rd2,Bxb6', 'https://lichess.org/training/mY0jz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('my1QS', 'Blitz', 'Sorrow_cz', 2125, 'Bronstein77', 2488, 'e4,Nf6,e5,Nd5,Bc4,e6,Nc3,Nxc3,dxc3,d5,exd6,Bxd6,Nf3,O-O,O-O,b6,Ng5,Bb7,Qh5,h6,Nxe6,fxe6,Bxe6+,Kh7,Bf5+,Rxf5,Qxf5+,Kh8,Bf4,Nd7,Bxd6,cxd6,Rad1,Nf6,Rfe1,Qc7,f3,Rf8,Qg6,Qc5+,Kh1,d5,Re2,Ba6,Re5,Qf2,Rde1,Ne4,Rg1,Qc5,fxe4', 'Qxg1+,Kxg1,Rf1#', 'https://lichess.org/training/my1QS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('my2Hv', 'Rapid', 'nishantkumar123', 926, 'phanidee', 974, 'd4,Nc6,e3,e5,dxe5,Nxe5,Qd5,Bd6,Be2,Nf6,Qd1,c5,f4,Neg4,Bxg4,Qe7,Nf3,Bxf4,Qe2,Bxe3,Bxe3,Nxg4,Ng5,Nxe3,Kf2,Qf6+', 'Nf3,O-O,Qxe3', 'https://lichess.org/training/my2Hv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MY2yB', 'Blitz', 'aKTepnopHo', 1749, 'GuessMyCity', 1759, 'd4,d5,c4,c6,Nf3,Bg4,c5,Nd7,h3,Bxf3,exf3,e5,Nc3,Qf6,dxe5,Nxe5,Bd3,Nd7,O-O,Nxc5,Re1+,Be7,Nxd5,cxd5,Bb5+,Kf8,Qxd5,Rd8', 'Qxd8+,Bxd8,Re8#', 'https://lichess.org/training/MY2yB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MY3eR', 'Rapid', 'M-Silves', 1921, 'Scarecrow404', 1862, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nf6,d3,h6,a3,d6,h3,Be6,Nd5,Nd4,Nxd4,Bxd4,c3,Bxd5,exd5,Bb6,Qa4+,Qd7', 'Bb5,c6,dxc6', 'https://lichess.org/training/MY3eR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mY48d', 'Rapid', 'ishanpendse', 1860, 'lebold', 1838, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,O-O,Bd7,Bg5,Be7,Re1,O-O,a3,b5,Ba2,Nc6,Nxc6,Bxc6,e5,Nd5,Bxe7,Qxe7,Nxd5,Bxd5,Bxd5,exd5,Qxd5,dxe5,Rxe5,Qa7,Rae1,Rac8,Re7,Qb6,c3,Qf6,Ra7,Rfe8,Rxe8+,Rxe8,h3', 'Re1+,Kh2,Qf4+,g3,Qxf2+,Qg2,Qxa7', 'https://lichess.org/training/mY48d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MY5Os', 'Rapid', 'AlexanderMoskalyuk', 1744, 'ArdaViAydemir', 1742, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,Nc3,Re8,Bg5,Na5,Bb3,Nxb3,axb3,c6,Qd2,d5,exd5,cxd5,Rae1,Qd6,Nh4,Ng4,Be3,d4,Ne4,Qc6,Bg5,f6,Bxf6,Nxf6,Qg5,Nxe4,Rxe4,Be7,Qg3,Qxc2,Rxe5,Bd7,Nf5,Bxf5,Rxf5,Qxb3,Qe5,Bf6,Qg3,Qxb2,Rxf6,Qc3,Rf3,Re1,h3,Rae8,Qf4,a5', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/MY5Os');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MY6Hc', 'Rapid', 'freefire-lover', 1855, 'LitanMajumder012345', 1815, 'd4,d5,c4,Nf6,Nc3,dxc4,e4,e6,Bxc4,Bb4,Qc2,Bxc3+,bxc3,O-O,Nf3,b6,O-O,Bb7,Re1,Re8,Bg5,h6,Bxf6,Qxf6,Ne5,a6,Re3,b5,Rf3,Qh4,Bd3,f5,Rh3,Qf6,exf5,exf5,Bxf5,Qg5,Bh7+,Kf8,Qf5+,Qxf5,Bxf5,Nc6,Nd7+,Kg8,Rg3,Ne7,Nf6+,Kf7,Nxe8,Nxf5,Nxc7,Rc8,Nxa6,Nxg3,Nc5,Ne2+,Kf1,Bxg2+,Kxe2,Re8+,Kd3,g5,Rb1,Rb8,Nd7,Rd8,Ne5+,Kf6,Rxb5', 'Bf1+,Ke4,Bxb5', 'https://lichess.org/training/MY6Hc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('My6US', 'Blitz', 'AccidentalGeniOus', 1634, 'NorthwesternDefense', 1666, 'g3,b5,Bg2,Nc6,Nc3,a6,a4,bxa4,Rxa4,Bb7,d3,e6,Nf3,h6,O-O,d6,Nd4,Qd7,Rc4,d5,Ra4,g5,f4,gxf4,Bxf4,Bg7,Nxc6,Qxc6,Rc4,Qb6+,Kh1,dxc4,Bxb7,Qxb7+,Kg1,Bd4+,e3,Bxc3,bxc3,Ne7,Qh5,Ng6,d4,Nxf4,Rxf4,Rf8,Qxh6,O-O-O,Qh5,Qb1+,Rf1,Qxc2,Qa5,Rh8,Qxa6+,Kd7', 'Rxf7+,Ke8,Qxe6#', 'https://lichess.org/training/My6US');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MY9tc', 'Rapid', 'KSVChess', 1852, 'Nerco', 1852, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Bb5+,Bd7,Bxd7+,Nxd7,Nf5,Ndf6,Nc3,Ne7', 'Nxd6+,Qxd6,Qxd6', 'https://lichess.org/training/MY9tc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MyA3h', 'Classical', 'santosbetim', 1759, 'GreenStarEY', 1747, 'd4,Nf6,Nf3,d5,c4,c6,Bg5,Bf5,e3,e6,Nc3,Nbd7,Bd3,Bxd3,Qxd3,h6,Bxf6,Qxf6,O-O,Bd6,c5,Bc7,h3,O-O,b4,e5,dxe5,Nxe5,Nxe5,Qxe5,f4,Qe6,Rfe1,b6,a3,f5,Re2,Kh8,Rae1,Rg8,Kh1,g5,g3,Qg6,Rg2,g4,h4,Rge8,Ne2,bxc5,bxc5,Ba5,Rb1,Re4,Nd4,Rae8,Re2,Bd8,Kg2,Be7,Qc3,Bf6,Rd1,Bxd4,Rxd4,Rxd4,Qxd4+,Qg7,Qxg7+,Kxg7,Kf2,Kf6,Rb2,Re7,a4,Ke6,Ke2,Rc7,Kd3,h5,Kd4,Kf6,Rb3,Ke6,a5,Kd7,a6,Kc8,Ke5,Rf7,Kd6,Rc7,Rb7', 'Rxb7,axb7+,Kxb7,Ke5,a5', 'https://lichess.org/training/MyA3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MyA7T', 'Rapid', 'axfer', 1680, 'Yuggen', 1677, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be3,O-O,Bd3,Re8,Qd2,Ng4,h3,Nxe3,fxe3,e5,d5,Na6,a3,Nc5,Be2,b6,O-O-O,Bd7,h4,h5,Ng5,Bh6,Nf3,Na4,Nxa4,Bxa4,Rdg1,c6,g4,hxg4,Rxg4,cxd5,exd5,e4,Ng5,Bxg5,hxg5,Rc8,Qd4,Re5,Rgh4,Rxc2+,Kb1,Qxg5,Qxa4,Rxe2,Qxa7,Re1+,Rxe1,Qxh4,Rc1,Rxd5', 'Qa8+,Kg7,Qxd5', 'https://lichess.org/training/MyA7T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MYARz', 'Blitz', 'gammon167', 2071, 'HendraIND', 1981, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Nc6,c4,Nf6,d5,Nb8,Nc3,Bf5,Bd3,Bg6,O-O,Nbd7,h3,Nc5,Bxg6,hxg6,Be3,Nfe4,Bxc5,Nxc5,b4,Nd7,Re1,Nf6,c5,Qd7,Ne5,Qf5,Qa4+,Kd8,d6,cxd6,cxd6,exd6,Nxf7+,Kc8,Nxh8,g5,Nb5,g4,Rac1+,Kb8,Qc2,Qxc2,Rxc2,gxh3,Ng6,hxg2,Nxf8,a6,Nxd6,Ka7,Ne6,Nh5,Nc5,Nf4,Re7,Rh8,Rxb7+,Ka8,f3', 'Rh1+,Kf2,g1=Q#', 'https://lichess.org/training/MYARz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('myAzN', 'Classical', 'Dremoff', 1830, 'edufabra', 1828, 'e4,e5,Bc4,Nf6,Qf3,d6,d3,Be6,Bxe6,fxe6,Bg5,Nbd7,Nh3,Qe7,Nc3,O-O-O,Qe3,h6,Bxf6,gxf6,Qxa7,Nb8,Nb5,c6,Nc3,Qc7,O-O,d5,exd5,exd5,f4,Na6,fxe5', 'Bc5+,Qxc5,Nxc5', 'https://lichess.org/training/myAzN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Myb4d', 'Blitz', 'LaAtascada', 1762, 'lO-o-Ol', 1763, 'Nf3,d5,c4,d4,e3,c5,b4,b6,Bb2,Bb7,bxc5,bxc5,exd4,Bxf3,Qxf3,Nd7,d5,Ngf6,d4,e6,dxc5,Bxc5,Nc3,O-O,Bd3,exd5,Nxd5,Nxd5,cxd5,Bb4+,Kf1,Nc5,Qg3,f6,Bc4,Kh8,h4,Ne4,Qg4,Nd2+,Kg1,Nxc4,Qxc4,Bd6,h5,Rc8,Qg4,h6,g3,Rc2,Bd4,Re8,Kg2,Be5,Rhe1,Qxd5+,Kh3,Rec8,Bxe5,fxe5,Qf5,Rxf2,Qxc8+,Kh7,Qg4,Qg2+,Kh4,Qh2+,Qh3,g5+,Kg4', 'Rf4+,gxf4,Qxf4#', 'https://lichess.org/training/Myb4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MyB5T', 'Rapid', 'material_girly', 2091, 'Newtarget', 1751, 'd4,d5,Nf3,e6,Bf4,Nc6,e3,Bd6,Bg3,Bxg3,hxg3,Nf6,c3,Qe7,Bd3,Bd7,Nbd2,a6,a4,Na7,Qe2,c5,dxc5,Qxc5,Ne5,Nc6,Ndf3,h6,g4,Ke7,Rc1,g5,b4,Qd6,Nxc6+,Bxc6,b5,axb5,axb5,Bd7,Nd4,Rhc8,Rxh6,Ra3,Qd2,Nxg4', 'Nf5+,exf5,Rxd6', 'https://lichess.org/training/MyB5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MYBKa', 'Classical', 'vaibhav47', 1731, 'mdmonik', 1662, 'e4,e5,Nf3,Bc5,Bc4,d6,O-O,h6,c3,Nf6,Re1,Ng4,d4,exd4,cxd4,Bb6,h3,Nf6,e5,dxe5,Nxe5,O-O,Be3,Nbd7,Ng6,Re8,Qb3,Re7,Nxe7+,Qxe7,Bd2,Qf8,Bc3,c5,dxc5,Nxc5,Qc2,Be6,Bxe6,Nxe6,Nd2,Bd4,Ne4,Nxe4,Rxe4,Rc8,Qd3,Bxc3,bxc3,Nc5,Qe3,Nxe4,Qxe4,Rxc3,Qxb7,Qc5,Rd1,Rc2,Rd8+,Kh7,Qe4+,g6,Qf3,Rc1+,Kh2', 'Qc7+,g3,Qxd8', 'https://lichess.org/training/MYBKa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MyC3Z', 'Rapid', 'Lamak10', 1669, 'A0xx0A_19', 1651, 'd4,d5,c4,dxc4,Nc3,Nc6,e4,Nf6,Nf3,Bg4,d5,Ne5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,e5,O-O,Bb4,Bd2,Bxc3,Bxc3,Qd6,Rfe1,O-O,Qg3,Rfe8,Re3,c6,Rd1,cxd5,exd5,Nxd5,Qf3,Rad8,Qe4,Nf6', 'Rxd6,Nxe4,Rxd8,Rxd8,Rxe4', 'https://lichess.org/training/MyC3Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mycDU', 'Rapid', 'RedRakus', 1652, 'Neoliberalism', 1646, 'd4,Nf6,c4,d5,cxd5,Qxd5,Nc3,Qd6,Nf3,Bg4,e3,e6,Be2,Nc6,O-O,O-O-O,Nd2,Bxe2,Qxe2,e5,Rd1,exd4,Nce4,Qe5,Nxf6,Qxf6,Ne4,Qe5,Qg4+,Qe6,Qxe6+,fxe6,Ng5,dxe3,Rxd8+,Kxd8', 'Nf7+,Ke8,Nxh8', 'https://lichess.org/training/mycDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mYCLm', 'Rapid', 'wolololololooooo', 1711, 'milan0407', 1728, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d4,exd4,cxd4,d6,O-O,Be7,Nc3,Bg4,Qb3,O-O,Qxb7,Na5,Qa6,Nxc4,Qxc4,Bxf3,gxf3,Qd7,Bf4,Nh5,Bg3,Kh7,Nd5,Rac8,Kh1,f5,e5,f4,Nxe7,Qxe7,exd6,cxd6,Qd3+,Kh8,Rfe1,Qf6,Re4,fxg3,fxg3,Qxf3+,Qxf3,Rxf3,Rae1,Nf6,Re6,Rc2,R6e2,Rxe2,Rxe2,Kg8,Re6,Kf7,Rxd6,Rf2,Ra6,Rxb2,Rxa7+,Kg6,a4,Nd5,a5,Rb4,a6,Rb6,Rd7,Nb4', 'a7,Ra6,Rd6+,Rxd6,a8=Q', 'https://lichess.org/training/mYCLm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('myDD0', 'Classical', 'Mesarc', 1674, 'KANTPUTT', 1799, 'd4,f5,Nc3,Nf6,e3,e6,h3,b6,Nf3,Bb7,a3,Nc6,g4,fxg4,hxg4,Nxg4,Rg1,Nf6,e4,d6,Bg5,Be7,Bb5,O-O,Qd2,Nxe4,Nxe4,Rxf3,Bh6,Rf7,O-O-O,Bf6,d5,exd5,Qxd5,Na5,Nxf6+,Qxf6,Rxg7+,Kh8,Qxf7', 'Qxh6+,f4,Qxg7', 'https://lichess.org/training/myDD0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mYEKP', 'Rapid', 'FGAM7', 1684, 'Michafrankschach', 1726, 'e4,e5,Bc4,Nc6,Ne2,Qh4,O-O,Qxe4,d3,Qg6,a4,d6,Nd2,Bh3,Ng3,Bg4,Qe1,h5,f4,O-O-O,f5,Qf6,Nde4,Qe7,h3,Bxh3,gxh3,Nd4,Qa5,Kb8,f6,Nxf6,Nxf6,gxf6,Nf5,Qd7,Be3,b6,Qa6,Rg8+,Kh2,Nxf5,Bd5,c6,Bxb6,axb6', 'Qxb6+,Qb7,Qxd8+', 'https://lichess.org/training/mYEKP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MyEyD', 'Blitz', 'farshid1355', 1698, 'EmilStenstrom', 1714, 'e4,e6,d4,c5,d5,exd5,exd5,Nf6,c4,d6,Bg5,Be7,Nc3,Nbd7,Qe2,O-O,O-O-O,Nxd5,Bxe7,Nxe7,Nf3,Nf6,Qd3,Nf5,h3,Ne8,g4,Ne7,Ng5,Ng6,Nge4,Ne5,Qg3,Qe7,Nd5,Qe6,Ng5,Qh6,Qe3,Nxg4,Qf4,Ne5,Bd3,f6,h4,Nxd3+,Rxd3,fxg5', 'Ne7+,Kh8,Qxf8#', 'https://lichess.org/training/MyEyD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MyF7o', 'Rapid', 'mahmutalagoz_63', 2075, 'raea', 2118, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qd8,e4,Nc6,Be3,Bg4,f3,Bh5,Bb5,a6,Bxc6+,bxc6,Qa4,Qd7,Nge2,e6,O-O,Be7,Rac1,Rb8,Rc2,Rb6,Rfc1,O-O,a3,Rfb8,Nd1,c5,Qxd7,Nxd7,dxc5,Rc6,Nf4,Bg6,Nxg6,hxg6,b4,Ne5,Nf2,f5,Bf4,Bf6,Bxe5,Bxe5,Rc4,Bb2,Nd3,Bxc1,Rxc1,a5,Kf2,axb4', 'Nxb4,Rxb4,axb4', 'https://lichess.org/training/MyF7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mYfOV', 'Rapid', 'NickShein', 1709, 'nayeem7532', 1787, 'e4,c5,f4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bb5+,Bd7,O-O,Bxb5,Nxb5,c4,d3,cxd3,cxd3,Nc6,f5,Qb6+,Nbd4,Nxd4,Be3,Nxf3+,Rxf3,Qxb2,Rb1,Qxa2,Rxb7,e5,fxe6,Qxe6,Bf2,Bd6,Re3,Qxe3,Bxe3,O-O,Bxa7', 'Rxa7,Rxa7,Bc5+,Kh1,Bxa7', 'https://lichess.org/training/mYfOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MYhAx', 'Bullet', 'DeepVerne', 1644, 'MujicaSJ', 1706, 'e4,d6,d4,Nf6,Bd3,g6,c4,Bg7,Be3,O-O,Nf3,Bg4,h3,Bxf3,Qxf3,Nbd7,O-O,e5,d5,Ne8,Nc3,f5,exf5,gxf5,Bxf5,Ndf6,Bc2,e4,Nxe4,Nxd5,Qd1,Nf4,Qg4,Ng6,Bg5,Qc8,Qxc8,Rxc8,Rab1,Ne5,b3,Nf6,Nxf6+,Bxf6,Bxf6,Rxf6,f4,Ng6,g3,Re8,Rbe1,Rfe6,Rxe6,Rxe6,f5,Re2,fxg6,Rxc2,gxh7+,Kxh7,Rf7+,Kg6,Rxc7,Rxa2,Rxb7,Kf5,Rb5+,Ke4,Rd5,Kf3,g4,Kg3,g5', 'Ra1+,Rd1,Rxd1#', 'https://lichess.org/training/MYhAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('myHgB', 'Rapid', 'miou', 1816, 'MoElnady', 1753, 'd4,d5,e4,dxe4,f3,exf3,Qxf3,Qxd4,Nc3,Qe5+,Be2,Nc6,Bf4,Qf6,O-O-O,e5,Bg3,Nd4,Qe4,Bf5,Qxb7,Rd8,Nd5,Qg5+,Kb1,Bxc2+,Ka1,Bxd1,Nxc7+,Ke7,Nd5+,Ke6,Nf4+,exf4,Qe4+,Qe5,Bc4+,Kd6', 'Bxf4,Qxf4,Qxf4+', 'https://lichess.org/training/myHgB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MYhoO', 'Rapid', 'SatheeshKumar554', 1819, 'CarongWB', 1743, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Bc5,d3,a6,a3,d6,h3,Nf6,O-O,O-O,Be3,Bxe3,fxe3,b5,Ba2,Bb7,d4,Qe8,d5,Ne7,Nh2,Ng6,Ng4,Nxg4,Qxg4,Bc8,Qg3,Qe7,Rf2,Kh7,Raf1,Kg8,Ne2,Bd7,c4,bxc4,Bxc4,a5,b4,axb4,axb4,Rab8,b5,Bxb5,Bxb5,Rxb5,Nc3,Rb3,Rc1,Qd7,Rfc2,Rfb8,Ne2,Rb1,Rxc7', 'Qxc7,Rxb1,Rxb1+', 'https://lichess.org/training/MYhoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('myhvb', 'Rapid', 'anto_007', 1866, 'RRiga', 1792, 'e4,e6,f4,d5,e5,c5,h4,Nc6,c3,d4,c4,Nh6,g4,Be7,g5,Nf5,Rh3,h6,Nf3,hxg5,fxg5,Qc7,Qe2,d3,Qe4,Ncd4,Bxd3,Nxf3+,Rxf3,Rxh4,Rf4,Bxg5,Rxh4,Bxh4+,Kd1,Bg3,Nc3,Qxe5,Qxe5,Bxe5,Bxf5,Bxc3,Bxe6,Bxe6,dxc3,Bxc4,Be3,Rd8+,Ke1,b6,b3,Rd3,Ke2,Ba6,c4,Rd6,Bf4,Re6+,Kd3,Bb7,Rg1,g6,a3,Re4,Be3,Ke7,Re1,f5,Rg1,f4,Bf2,Kf6,Bh4+,Kf7,Bf2,f3,Rh1,Kf6,Rh7,Re7', 'Bh4+,g5,Bxg5+', 'https://lichess.org/training/myhvb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mYIa1', 'Rapid', 'ThomasM', 1743, 'beishani', 2172, 'e4,e6,Nc3,d5,exd5,exd5,Qe2+,Be7,d4,Nf6,Nf3,O-O,Be3,Bg4,h3,Bh5,g4,Bg6,O-O-O,c6,Ne5,Bd6,Nxg6,fxg6,Bg5,Nbd7', 'Qe6+,Rf7,Qxd6', 'https://lichess.org/training/mYIa1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MYIgX', 'Rapid', 'elias55', 1935, 'StMichael1', 1971, 'd4,f5,c4,Nf6,Nc3,g6,Nf3,Bg7,e3,O-O,Bd3,d6,O-O,a6,e4,fxe4,Nxe4,Nxe4,Bxe4,Nc6,d5,Ne5,Nxe5,Bxe5,Rb1,b5,b3,Bf5,Qd3,Qd7,Bh6,Bg7,Bg5,Rab8,Rbe1,e5,dxe6,Bxe6,Bd5,Rfe8,Re2,Bxd5,Qxd5+,Qf7,Rxe8+,Rxe8,Qc6,bxc4,bxc4,h6,Be3,Re5,Qxa6,Re4,Qa8+,Qe8,Qd5+,Qe6,Qa8+,Kh7,c5,dxc5,Bxc5,Re1,Bb4', 'Rxf1+,Kxf1,Qc4+', 'https://lichess.org/training/MYIgX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MYIk3', 'Rapid', 'StojkoSisa', 1805, 'RodTrad', 1781, 'd4,d5,c4,dxc4,e3,Be6,Nc3,c6,a4,Nf6,Nf3,g6,Ng5,Bd5,e4,Be6,Nxe6,fxe6,g3,Bg7,Bh3,Qd7,O-O,O-O,Be3,Na6,b3,Nc7,bxc4,b5,cxb5,cxb5,Qb3,bxa4,Nxa4,Rab8,Qa2,Nxe4,Rfd1,Nd5,Rac1,Kh8,Bg2,Nxe3,fxe3,Ng5,Nc5,Qd6,Qxa7,Ra8,Bxa8,Nh3+,Kg2,Rf2+,Kxh3,h5,Rh1,e5,Ne4', 'Qe6+,g4,Qxg4#', 'https://lichess.org/training/MYIk3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MYIwE', 'Rapid', 'BelAN', 1855, 'nikolay271965', 2072, 'e4,g6,Nf3,Bg7,d4,c5,dxc5,Qa5+,Bd2,Qxc5,c3,Nf6,b4,Qc7,Bd3,O-O,O-O,d5,exd5,Nxd5,c4,Bxa1,cxd5,Bg7,Nc3,Bg4,Be4,Bxc3,Qc1,Qc4,Ng5,h6,Bxc3,hxg5,Qc2,Nd7,Bxg6,Ne5', 'Bh7+,Kg7,Bxe5+', 'https://lichess.org/training/MYIwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MyJMt', 'Rapid', 'ARYA-SEKO', 1627, 'eisbaerbargteheide', 1606, 'e4,c5,Nc3,Nc6,Nf3,e6,d4,cxd4,Nxd4,d5,exd5,exd5,Bb5,Bd7,Nxd5,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,Nxf6+,gxf6,Qxd7+,Kxd7,Bf4,Re8+,Be3,Bc5,O-O-O+,Kc6,Bxc5,Kxc5,Rd7,Re2,Rf1,Rg8,g3,a5,Rxb7,Rf8,c3,Kc6,Ra7,Kb6,Kd1,Rxb2,Rd7,Rxa2,Rd2', 'Ra1+,Ke2,Re8+,Kf3,Rxf1', 'https://lichess.org/training/MyJMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('myK1l', 'Rapid', 'johannn', 2103, 'rigochile', 1972, 'c4,Nf6,Nf3,g6,g3,Bg7,Bg2,c6,O-O,O-O,Nc3,Na6,d4,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Nc7,Bb2,Bg4,h3,Bd7,Kh2,h6,Qe2,a6,Rad1,Qc8,Nd2,b5,f4,Be6,a3,Rb8,f5,gxf5,exf5,Bxf5,Qxe7,Nd5,Bxd5,cxd5,Qh4,Re8,Rde1,Bd3,Rg1,Qf5,g4', 'Qf4+,Qg3,Qxd2+', 'https://lichess.org/training/myK1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mYk99', 'Rapid', 'Loumkah', 1684, 'ZaneDX', 1674, 'e4,b6,Nf3,Bb7,d4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,Bxe4,c4,Nc6,d5,Bxf3,Qxf3,Ne5,Qg3,Ng6,Bd3,N8e7,O-O,exd5,Bxg6,hxg6,cxd5,Nxd5', 'Qe5+,Kf8,Qxd5', 'https://lichess.org/training/mYk99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mykwy', 'Blitz', 'FreddoFrog07', 1923, 'kaligulovich', 1923, 'd4,e5,dxe5,Nc6,Bf4,Qe7,Nc3,Qb4,Bc1,Nxe5,e3,Nf6,Be2,d5,a3,Qa5,b4', 'Bxb4,axb4,Qxa1,Bd2,Qxd1+', 'https://lichess.org/training/Mykwy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('myKXv', 'Classical', 'INSTINCTIV', 1770, 'ALXXA', 1737, 'Nf3,c5,b3,a6,Bb2,b5,d3,Bb7,e4,d5,exd5,Bxd5,Nc3,Bb7,Be2,Nf6,O-O,g6,Re1,Bg7,Ne5,Nd5,Bf3,Qd6,Nxd5,Bxd5,c4,Bc6,Qe2,O-O,Nxc6,Nxc6,Bxg7,Kxg7,Bxc6,Qxc6,Qxe7,Rad8,Qe5+,Kg8,Qg3,Rd4,Re3,h5,Rae1,Rfd8,h4,Rg4,Qf3,Qd6,g3,Rd4,Re7,Rf8,R1e3,Rxd3,Rxf7', 'Rd1+,Kg2,Rxf7', 'https://lichess.org/training/myKXv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MYlAa', 'Rapid', 'AhmadMSaad', 1716, 'Fastik-Eda', 1758, 'd4,d6,e4,g6,Nf3,Bg7,Nc3,Nf6,Bg5,h6,Bh4,O-O,Bd3,c5,O-O,cxd4,Nxd4,Nc6,Nf3,a6,Re1,b5,a3,Bb7,Nd5,Nxd5,exd5,Ne5,Nxe5,Bxe5,c3,Bxd5,Qd2,Kg7,f4,Bf6,Bxf6+,exf6,Bc2,Bc4,h4,f5,h5,Qf6,hxg6,fxg6,b3,Bf7,Re3,Rfe8,Rh3,Re6,Re1,Rae8,Rxe6,Rxe6,Qf2,Qe7,Kh2,Re2,Qd4+,Kh7,Bd1,Re4', 'Rxh6+,Kxh6,Qh8#', 'https://lichess.org/training/MYlAa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mym5G', 'Blitz', 'Villaja', 2047, 'Bierkoning', 2024, 'e4,c5,Nf3,g6,d4,cxd4,c3,Bg7,Bc4,d3,O-O,Qc7,Qxd3,Nf6,e5,Ng4,Bf4,Nxe5,Nxe5,Bxe5,Qd5,Bxf4,Qxf7+,Kd8,Na3,Bxh2+,Kh1,Qf4,Qg7,Qh4,Qxh8+,Kc7,Nb5+,Kc6,Qxc8+', 'Bc7+,Kg1,Qh2#', 'https://lichess.org/training/Mym5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mYmnf', 'Rapid', 'ZakMigul', 1924, 'Kaymore22', 1943, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Nc3,Bb4,Bd2,Ne7,h3,O-O,Bg5,Ba5,Bd3,Bxd3,Qxd3,Re8,O-O,Qc7,a3,Nd7,b4,Bb6,Bxe7,Rxe7,Ng5,g6,f4,Kg7,a4,a6,Ne2,Ba7,c3,b6,Ng3,c5,Nh5+,Kg8,Rf3,cxb4,cxb4,a5,bxa5,bxa5,Raf1,Nf8,Nf6+,Kg7,h4,h6,Nh3,Qc6,f5,exf5,h5,g5,Qxf5,Bxd4+,Kh1,Bxe5,Ng4,Bb2,Rg3,Raa7,Nxg5,hxg5,Qxg5+,Kh8,Nh6,Ng6,hxg6,fxg6,Rf8+,Kg7,Rg8+,Kh7,Rxg6,Qc1+,Kh2,Qxg5,R3xg5,Red7,Nf5,Bc1', 'Rh6#', 'https://lichess.org/training/mYmnf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mynEe', 'Rapid', 'dizhwasher77', 1923, 'tal7', 1930, 'd4,e5,dxe5,Nc6,Nf3,Qe7,e4,Nxe5,Be2,Qb4+,Nc3,Nf6,Nxe5,Nxe4,Bd2,Qc5,Nxe4,Qxe5,Nc3,Bd6,g3,b6,O-O,Bb7,Re1,O-O,Bf4,Qf5,Bxd6,cxd6,Bd3,Qh3,Be4,Bxe4,Nxe4,Rae8,Qd3,Qe6,Re3,d5,Ng5,Qh6,Nf3,Qd6,Rae1,Rxe3,Rxe3,h6,Nd4,Qb4,Nf5,Qxb2,c3,Qxa2,Qd4,Qb1+,Kg2,Qxf5,Re5,Qf6,Qxd5,d6,Rf5,Qe6,Qf3,Rc8,Rf4,d5,Rd4,Qe5,Rxd5,Qxc3', 'Rd8+,Rxd8,Qxc3', 'https://lichess.org/training/mynEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MYp6I', 'Rapid', 'viasport', 1754, 'chixchan07', 1768, 'e4,c5,Bc4,d6,Nf3,Nc6,O-O,g6,d3,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nf6,Qe6,Ne5,f4,Qd7,Qxd7+,Nexd7,Nc3,Bh6,Ne6,Rc8,Nb5,Nf8,Nxf8,Rxf8,Nxa7,Ra8,Nb5,Nh5,Nc7+,Kd7,Nxa8,Rxa8,g4,Ng7,g5,Bxg5,fxg5,c4,d4,b5,Rf7,Ne6,d5,Nd4,Rxh7,Nxc2,Rb1,Rxa2,Rg7,b4,Rxg6,Nd4,Kf2,c3,Be3', 'Rxb2+,Rxb2,cxb2,Bxd4,b1=Q', 'https://lichess.org/training/MYp6I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mypeL', 'Classical', 'Austin8697', 1887, 'Teun24', 1777, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Nxe4,Nxe4,d5,Bxd5,Qxd5,Nc3,Qd6,Nb5,Qd7,Qe2,Be7,Nxe5,Nxe5,Qxe5,O-O,Nc3,Re8,O-O,Bd6,Qd5,c6,Qd3,Qg4,h3,Qg5,Qxd6,Bxh3,Qg3,Qxg3,fxg3,Bg4,d3,Re6,Na4,Rae8,Bf4,Re2,c4,Rc2,Rac1,Rce2,a3,b5,cxb5,cxb5,Nc3,Rxb2,Rb1,Rc2,Nxb5', 'Ree2,Rf2,Rxf2', 'https://lichess.org/training/mypeL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mypqt', 'Rapid', 'traiver', 1653, 'Nosreffej', 1770, 'd4,d5,Bg5,h6,Bh4,g5,Bg3,Nf6,e3,Nc6,c4,dxc4,Bxc4,e6,Nc3,Bd7,Qb3', 'Na5,Qc2,Nxc4', 'https://lichess.org/training/mypqt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mYRt5', 'Blitz', 'rnardin', 1683, 'tranquilllle', 1657, 'd4,Nf6,c4,e6,Nc3,Bb4,Bf4,b5,e3,bxc4,Bxc4,Bb7,Nf3,Ne4,Rc1,g5,Bg3,h5,h3,Nxg3,fxg3,Qe7,Qb3,Na6,a3,Bd6,Qxb7,Bxg3+,Ke2,O-O,Qxa6,Rab8,b4,c6,Qxa7,d5,Bd3,Qxa7,Ra1,Qc7,Nxg5,f5,Nf3,Qg7,Rhf1,e5,dxe5,Rbe8,a4,f4,a5,fxe3,Kxe3,Bf4+,Ke2,d4,Ne4,Rxe5,Nxe5,Qxe5,a6,Ra8,Rf3,Ra7,b5,cxb5,Bxb5,Qxb5+,Kf2,Be3+,Kg3,Qe5+,Kh4,d3,Rg3+,Kh7,Rxe3,Qxa1,Ng5+,Kg6,Re6+,Kf5', 'g4+,hxg4,hxg4+,Kf4,Re4#', 'https://lichess.org/training/mYRt5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mYtjT', 'Rapid', 'MPE19', 1907, 'tessathedog', 2049, 'd4,d5,c4,e6,Nc3,c5,cxd5,exd5,Nf3,Nc6,Bg5,Be7,Bxe7,Ngxe7,e3,c4,Be2,O-O,O-O,Bf5,Nh4,Be6,g3,b5,Nxb5,Rb8,Nc3,Rxb2,Na4,Rb4,Nc5,Qa5,Qc2,Rfb8,Rfb1,g6,Rxb4,Nxb4,Qd2,Qa3,Rb1,Nec6,Nxe6,fxe6,Nf3,c3,Qc1,Qxc1+,Rxc1,Nxa2,Rc2,Rb2,Bd3,Rxc2,Bxc2,Nab4,Ne1,Kf7,Kf1,e5,dxe5,Nxc2,Nxc2,Nxe5,Ke2,Kf6,f4,Nc6,g4,a5,Kd3,g5,Kxc3,gxf4,exf4,h5,h3,hxg4,hxg4,a4,Nb4', 'd4+,Kd3,Nxb4+', 'https://lichess.org/training/mYtjT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mYui6', 'Rapid', 'Silverbyte', 2219, 'waseemdaher', 2240, 'e4,c5,f4,g6,Nf3,Bg7,c3,Nc6,Bb5,Nf6,d3,d5,e5,Ng8,h3,Bd7,Bxc6,Bxc6,O-O,e6,Be3,b6,d4,c4,g4,Ne7,Na3,h5,Nc2,hxg4,hxg4,Qd7,Ng5,Ng8,Nb4,O-O-O,Nf3,Nh6,Nh4,Nf5,gxf5,Rxh4,f6,Bh6,Qe1,Rh5,Kg2,Rh8,Qg3,Bf8,Nxc6,Qxc6,Rh1,Qa4,b3,cxb3,axb3,Qxb3,Qf2,Rxh1,Rxh1,Rxh1,Kxh1,Qxc3,Kg2,a5,Kf3,a4,Qh2,Kb7,Qh8,Qc8,Qg8,Qe8,Bc1,Ka6,Ba3,Qb5,Qxf8,Qd3+,Kg4,Qe2+,Kg5', 'Qh5#', 'https://lichess.org/training/mYui6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mYV5Z', 'Blitz', 'TedGd', 1833, 'rictusembra', 1818, 'e4,e5,Bc4,Nc6,Nf3,Bc5,O-O,d6,h3,h5,c3,Bg4,b4,Bb6,a4,a5,b5,Nce7,hxg4,hxg4,Nh2,Ng6,Qxg4,Nf6,Qf3,Ke7,d3,Rh4,Bg5,Rxh2,Bxf6+,gxf6,Kxh2,Nf4,g3,Qh8+,Kg1,Nh3+,Kg2,Ng5,Qg4,Rg8,Rh1,Qg7,f4,exf4,gxf4,Qf8,Kf1,Nxe4,Qe2,f5,dxe4,Qg7,exf5+,Kd8,Nd2', 'Qg1+,Rxg1,Rxg1#', 'https://lichess.org/training/mYV5Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mYVaP', 'Blitz', 'stuxnets', 2071, 'hama48', 2046, 'd4,Nc6,Bf4,d6,e3,e5,dxe5,Nxe5,Bxe5,dxe5,Qxd8+,Kxd8,Nc3,c6,Nf3,f6,Bc4,Kc7,O-O-O,Bg4,Rd2,Bxf3,gxf3,Bb4,Rhd1,Bxc3,Rd7+,Kb6,bxc3,g6,Rg7,Nh6,Rdd7,Rab8,Rxh7,Rxh7,Rxh7,Nf5,Bf7,g5,Be6,Nh4,Bg4,Rf8,f4,exf4,exf4,Ng2,Rg7,gxf4,Bf3,Nh4,Bh1,f3,Rg4,Re8,Rxh4,Re1+,Kd2,Rxh1,Rf4,Rxh2,Rxf3,Rh1,Rxf6,Ra1,Rf4,Rxa2,Rb4+,Kc7,f4,Ra5,Re4,Rd5+,Ke3,a5,Rd4,Rh5,Ke4,b5,f5,a4,f6,Rh8,Kf5,a3,Ke6,Rh1,f7,a2,f8=Q,a1=Q,Qd8+,Kb7,Rd7+,Ka6,Qa8+,Kb6,Rb7+,Kc5', 'Qf8+,Kc4,Qb4#', 'https://lichess.org/training/mYVaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MYvlI', 'Rapid', 'aggrofish', 2110, 'nafis1965', 2084, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,e3,O-O,Bd3,h6,Bh4,Nbd7,Nge2,c6,Rc1,Ne4,Bxe7,Qxe7,Bxe4,dxe4,Ng3,Nf6,Qc2,Re8,O-O,h5,h3,h4,Nge2,g5,d5,cxd5,Nb5,Rd8,Nc7,Rb8,Rfd1,b6,Nb5,a6,Nbd4,Bd7,Nc6,Bxc6,Qxc6,Rdc8,Qxc8+,Rxc8,Rxc8+,Kg7,Nd4,Qe5,Rdc1,g4,R1c6,g3,R8c7,gxf2+,Kxf2,Qg3+,Kf1,Kg6,Nc2,Qh2,Rc8,Kg7,Nd4,Qe5,Rxb6,Nh5,Rbb8,Ng3+,Ke1,Qh5,Rg8+,Kf6,Rg4,Ke7,Rb7+,Kd6,Rb6+,Kd7,Rxa6,Nf5,Nxf5,Qxf5,Rxh4,Qg5,Rf4,Qxg2,Rxf7+,Ke8,Rb7,Qg3+,Kd2,Qf2+,Kc3,Qxe3+,Kb4,Qd4+,Ka3', 'Qd3+,Rb3,Qxa6+', 'https://lichess.org/training/MYvlI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('myxmB', 'Rapid', 'Yakupkoc', 1956, 'pujasera', 1999, 'e4,Nc6,Bc4,e5,c3,Nf6,d3,d5,exd5,Nxd5,h3,Bc5,Nf3,Be6,O-O,O-O,Nbd2,Nf4,Ne4,Bxc4,Nxc5,Bxd3,Bxf4,Bxf1,Qxf1,exf4,Nxb7,Qb8,Qa6,Nd8,Nc5,Qxb2,Re1,Qxc3,Ne4,Qb4,a3,Qb2,Qd3,Ne6,Neg5,Nxg5,Nxg5,g6,Qf3,Qd2,Re2,Qd1+,Kh2,Rae8', 'Rxe8,Qxf3,Rxf8+', 'https://lichess.org/training/myxmB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MyZXT', 'Blitz', 'Ahoj', 1678, 'Dary0713', 1654, 'e4,e5,Nc3,Nc6,a3,Nf6,Bc4,h6,Nf3,Bc5,d3,d6,Be3,Bb6,Bxb6,axb6,O-O,Bg4,h3,Bh5,Bb5,O-O,Bxc6,bxc6,Kh2,Qd7,Rg1,Nh7,g4,Bg6,Nh4,Ng5,Qd2,Bh7,Ne2,Rae8,f4,Ne6,g5,exf4,Nxf4,hxg5,Nxe6,Rxe6,Rxg5,Rh6,Qf4,Qe6,Rag1,g6,R1g3,Kh8,Rf5,Rxh4,Qxh4,gxf5,Rg5,fxe4,Rh5,Qg6,dxe4,Re8,Rg5,Qxe4,Qh6,Qe2+,Rg2,Qe5+,Kh1,Re6', 'Qf8+,Bg8,Qxg8#', 'https://lichess.org/training/MyZXT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZ2KT', 'Classical', 'igor717', 1906, 'Alexandr2017', 1888, 'e4,e6,d4,d5,e5,c5,c3,Nc6,f4,Qb6,Nf3,Nge7,b3,Nf5,Bd3,cxd4,Bxf5,exf5,Nxd4,Nxd4,Qxd4,Bc5,Qxd5,Be6,Qf3,Rd8,Ba3,O-O,Bxc5,Qxc5,Qf2', 'Rd1+,Kxd1,Qxf2', 'https://lichess.org/training/MZ2KT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mz339', 'Rapid', 'josuah99', 1717, 'Pedrojim', 1732, 'e4,e5,Nf3,d6,Nc3,c6,d4,Qf6,dxe5,dxe5,Bg5,Qd6,Qxd6,Bxd6,O-O-O,f6,Rxd6,fxg5,Nxg5,Ke7,Rd1,h6,Nf3,Nd7,Bc4,Ngf6,h3,b5,Bb3,b4,Ne2,Nxe4,Ng3,Nxf2,Rhe1,Nxd1,Kxd1,a5,Nxe5,Nxe5,Rxe5+,Kf6,Re2,Ra7,Rf2+,Kg5,Ne4+,Kh4,Rf4+,Kh5,Bf7+,g6,h4,Bg4+,Kc1,Rd8', 'Nf6+,Kxh4,Rxg4#', 'https://lichess.org/training/mz339');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZ6Pc', 'Rapid', 'Gammarax', 1752, 'shanat287', 1829, 'Nf3,Nf6,c4,d5,cxd5,Nxd5,Nc3,Bg4,e3,e6,Be2,Be7,Qb3,b6,h3,Bh5,g4,Bg6,Ne5,O-O,Bf3,c6,d4,Bf6,Nxg6,fxg6,Bg2,Bh4,O-O,Qf6,Ne4,Qe7,Bd2,Nd7,Rac1,Rac8,Ng3,c5,e4,Nf4,Bxf4,Rxf4,d5,exd5,exd5,Qd6,Ne4,Qe5,Rce1,Kh8,Nxc5', 'Bxf2+,Kh1,Bxe1', 'https://lichess.org/training/MZ6Pc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mz7lZ', 'Blitz', 'Melcette', 1539, 'qucci', 1527, 'd4,c6,c4,d5,Nc3,Nf6,Qc2,e6,Nf3,Bd6,Bg5,O-O,h4,Be7,Ne5,dxc4,e4,Qxd4,Nxc4,Nbd7,Rd1,Qc5,Bd3,h6,f4,hxg5,hxg5,Ng4,Rh3,b5,e5,bxc4', 'Bh7+,Kh8,Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/Mz7lZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mZ9yW', 'Rapid', 'Santiab10', 1860, 'EKA7777', 1863, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,c6,O-O,Be6,Bb3,Bxb3,axb3,c5,Qd5,Qd7,Bf4,Nf6,Qd3,Be7,Rfd1,O-O,Bxd6,Bxd6,e5,Bxe5,Qxd7,Nxd7,Rxd7,Bxc3,bxc3,Rfb8,Re1,b6,Ree7,Rf8,Rxa7,Rxa7,Rxa7,Rd8,Kf1,Rd2,Ra2,f5,Ke1,Rd6,c4,g5,Ra7,h5,Ke2,Re6+,Kf3,Rd6,Ke3,Re6+,Kd3,Rd6+,Kc3,Rd1,Rb7,Rd6,g3,h4,f4,hxg3,hxg3,gxf4,gxf4,Rg6,Kd3,Kf8,c3,Ke8,b4,cxb4,cxb4,Rf6,Kd4,Kd8,Ke5,Rc6,Kxf5,Kc8,b5', 'Rc5+,Ke6,Kxb7', 'https://lichess.org/training/mZ9yW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZAdI', 'Classical', 'dev1k', 1666, 'sir_irvin', 1644, 'd4,d5,c4,e6,Nc3,Nc6,a3,e5,e3,Be6,dxe5,Nxe5,cxd5,Bg4,f3,Bf5,e4,Bd7,Bf4,Bd6,Bxe5,Bxe5,Qb3,b6,O-O-O,Qg5+,Kb1,Qe3,Nge2,Nf6,Nc1,Bxc3,bxc3,O-O,Bb5,a5,Bxd7,Nxd7,Rhe1,Qf4,Qb5,Nc5,h3,Qe5,Rd4,a4,Nd3,Nxd3,Qxd3,Rfc8,Kc2,c5,dxc6,h6,Rd5,Qe6,Qb5,Ra5,Qxb6', 'Rxd5,exd5,Qxe1', 'https://lichess.org/training/MZAdI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mzc7M', 'Rapid', 'Snow-White', 2060, 'dESPOdESPO', 2024, 'e4,c5,Nc3,d6,Bb5+,Nc6,f4,e6,Nf3,Bd7,O-O,a6,Bxc6,Bxc6,d3,Nf6,Qe2,Be7,Bd2,O-O,Rae1,Re8,e5,Nd5,exd6,Bxd6,Ne5,Nxc3,Bxc3,Bd5,b3,Qe7,Qg4,f6,Nc4,Bxc4,bxc4,Qf7,Re2,Re7,Rfe1,Rae8,a4,h5,Qf3,Qg6,Re3,Qf5,g3,e5,Qd5+,Qe6,Qxe6+,Rxe6,fxe5,Bxe5,Bxe5,Rxe5,Rxe5,Rxe5,Rxe5,fxe5,Kf2,Kf7,Ke3,Ke6,Ke4,a5,h4,g6,c3,b6,d4,exd4,cxd4,cxd4,Kxd4,Kd6,Kc3', 'Kc5,Kd3,Kb4', 'https://lichess.org/training/Mzc7M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MzD5i', 'Rapid', 'BongyCloudy', 2154, 'kotsa3', 2160, 'd4,Nf6,c4,e6,Nc3,Bb4,Qb3,Bxc3+,bxc3,b6,f3,Bb7,e4,O-O,Bg5,h6,Bh4,g5,Bf2,d5,cxd5,exd5,e5,Nfd7,h4,f6,hxg5,hxg5,Qc2,Qe7,Bd3,fxe5,Bh7+,Kh8,Bg6+,Kg8,Bh7+,Kh8,Qg6,Qg7,Qe6,Qf6,Bf5+,Kg7', 'Rh7#', 'https://lichess.org/training/MzD5i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzdhu', 'Classical', 'NicePepper', 1807, 'MausitoPro', 1892, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Nf6,Qb5+,Qd7,Ne5,Qxb5,Nxb5,Na6,a3,Ne4,c4,f6,f3,Nd6,Ng4,Nxb5,cxb5,Nc7,b6,Nb5,Be3,axb6,Rc1,Bd6,a4,Nc7,b3,O-O,O-O,Rac8,h4,h5,Nf2,Bg3,Nh3,e5,dxe5,fxe5,Bg5,Ne6,Be7,Rfe8,Bd6,Nd4,Rc7,Rxc7,Bxc7,Rc8,Bxb6,Nxb3,Bf2,Bxf2+,Nxf2,Nc5,a5,Ra8,Ra1,Nb3,Ra3,Nxa5,Nd3,e4,fxe4,dxe4,Nf4,Rf8,g3,Nc4,Ra4,Nd6,Nxh5,e3,Nf4,Nf5,Kg2,Re8,Ne2,Rc8,Re4,Rc2,Kf3,Rb2,Re5,g6,h5,Kh7,g4,Nd6,hxg6+,Kg7,Re6,Nb5,Kxe3', 'Rxe2+,Kxe2,Nd4+,Kd2,Nxe6', 'https://lichess.org/training/mzdhu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzE6l', 'Rapid', 'veryrabbit', 1817, 'Captain_Nemo77', 1754, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,O-O,d4,exd4,Nxd4,d6,O-O,Re8,Bd3,Bxd4,e5,Bxe5,Re1,Nc6,Ne4,Nxe4,Bxe4,Qh4,g3,Qf6,h4,Bd4,Bf4,Bxb2,Rb1,Bc3,Bg5,Qd4,Bxh7+,Kxh7', 'Qh5+,Kg8,Rxe8#', 'https://lichess.org/training/mzE6l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mze8r', 'Rapid', 'NovoselovN', 1759, 'christianlaing', 1771, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,Nf3,Nf6,Be2,Bd6,Be3,Bf5,O-O,h6,a3,Nbd7,b4,O-O,Qd2,Ne4,Nxe4,Bxe4,Qd1,Re8,Bd3,Nf6,h3,Bxd3,cxd3,Re7,Qd2,Kh7,Nh4,Qc7,Nf5,Ree8,Nxd6,Qxd6,Bf4,Qd7,Rae1,Qf5,Be5,Nd7,Bg3,Nf6,Re5,Qg6,Rfe1,Rxe5,dxe5,Nd7,d4,Nb6,Qe2,Nc4,a4,Re8,h4,Qe6,h5,f6,Kf1,fxe5,dxe5,Qf5,Qf3', 'Nd2+,Ke2,Nxf3', 'https://lichess.org/training/mze8r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mzf1k', 'Rapid', 'SIRUS-THE-VIRUS', 1952, 'AhBeg', 2050, 'e4,d6,d4,Nd7,Nf3,g6,Bc4,e6,O-O,Bg7,Be3,Ne7,Qd2,O-O,Bh6,Nf6,Nc3,a6,a4,c6,Qf4,Nh5,Qe3,Nf6,a5', 'Ng4,Bxg7,Nxe3', 'https://lichess.org/training/Mzf1k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MzgJ1', 'Rapid', 'Ramzikhoory', 1841, 'Marc-oO', 1833, 'e4,c5,Bc4,g6,d3,Bg7,h3,Nf6,Bg5,O-O,Nf3,a6,a3,Nc6,O-O,Qc7,Bh4,e6,Nc3,b5,Ba2,Bb7,Re1,Nd4,Nxd4,cxd4,Ne2,e5,Ng3,d5,Bxf6,Bxf6,exd5,Rad8,Qf3,Bg7,Qe4,f5,Qe2,Kh8,b4,Bxd5,Bxd5,Rxd5,Nf1,Rdd8,Nh2,Rde8,Nf3,e4,Nh2,exd3,Qxd3,Qc3,Rxe8', 'Qxa1+,Qf1,Qxf1+,Kxf1,Rxe8', 'https://lichess.org/training/MzgJ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MzgrG', 'Rapid', 'sptik12', 1924, 'Xano2004', 1806, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,Bd2,c5,e3,cxd4,Nxd4,dxc4,Bxc4,b6,O-O,Bb7,Bb5+,Nbd7,Nc6,Bxc6,Bxc6,Rc8,Bb5,O-O,a3,Bc5,Ne2,Nd5,Re1,Ne5,Ng3,Nc7,Ba4,Nd3,Bc3,Nxe1,Qxd8,Rfxd8,Rxe1,b5,Bb3,Rd7,Ne4,Bb6,h3,Nd5,Be5,f6,Bg3,a5,Rd1,a4,Ba2,Rcd8,Rc1,Nxe3', 'Bxe6+,Kf8,Bxd7', 'https://lichess.org/training/MzgrG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mzh2o', 'Classical', 'GhosthDogs', 2031, 'AMK60', 2079, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,a4,a6,Nc3,d6,Nd5,Ba7,Be3,Bxe3,Nxe3,Nf6,f3,Be6,Bc4,O-O,Qd2,Bxc4,Nxc4,d5,exd5,Re8+,Kf2,Nxd5,Rad1', 'Qh4+,g3,Qxc4', 'https://lichess.org/training/Mzh2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZHKh', 'Blitz', 'etopie', 1881, 'ElChino17', 1909, 'e4,c5,f4,Nc6,Nf3,e6,Be2,Be7,O-O,Nf6,Nc3,O-O,e5,Nd5,Nxd5,exd5,d4,c4,b3,d6,bxc4,dxc4,d5,Nb8,Bxc4,Bg4,Qd3,dxe5,fxe5,Bc5+,Kh1,Nd7,Bg5,Nxe5,Nxe5,Qxg5,Qg3,Bd6,Qxg4,Qxe5,Qh3,Rac8,Rae1,Qg5,Rf5,Qg6,Bd3,Bb4,Rh5,Bxe1,Rxh7,f5,Rh8+,Kf7,Rxf8+,Rxf8,Bxf5,Qf6,Be6+,Ke7,Qa3+,Kd8', 'Qd6+,Ke8,Qd7#', 'https://lichess.org/training/MZHKh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzHXH', 'Blitz', 'Chessboy_92', 1966, 'ChessHungerOnTwitch', 2393, 'd4,d5,e3,c6,f4,Nf6,Nf3,g6,Bd3,Bg7,c3,O-O,O-O,b6,Nbd2,Bb7,Ne5,c5,Qf3,Nbd7,Qh3,e6,g4,Ne4,Bxe4,dxe4,Ndc4,Ba6,b3,Nxe5,fxe5,cxd4,exd4,Rc8,Bh6,Bxc4,bxc4,Rxc4,g5,e3,Qxe3,Bxh6,gxh6,Qh4,Rf2,Rfc8,Qf3,R8c7,Rc1,Qxh6,Qf6,Qxc1+,Kg2,Qh6,d5,Rg4+,Kh1,Qc1+,Rf1,Qxc3,Qd8+,Kg7,Qf6+,Kh6,dxe6,Qc6+,Rf3,Qxe6', 'Rh3+,Rh4,Rxh4#', 'https://lichess.org/training/mzHXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzIDQ', 'Rapid', 'Alireza_Nourizad', 1633, 'Fabio_Alves', 1634, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bg4,Bg5,Be7,h3,Bh5,Be2,h6,Bxf6,Bxf6,O-O,O-O,Ne5,Bxe2,Qxe2,Re8,f4,Nd7,Rae1,Nxe5,fxe5,c6,Qh5,g6,Qxh6', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/mzIDQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Mziho', 'Rapid', 'mathmoses', 1932, 'Zain1961alkhwildi', 1994, 'e4,e5,Nf3,d5,Nc3,d4,Ne2,Nc6,d3,Bg4,h3,Bxf3,gxf3,Bb4+,Bd2,Qe7,f4,O-O-O,fxe5,Qxe5,Bxb4,Nxb4,Qd2,Qa5,a3', 'Nxc2+,Kd1,Qxd2+,Kxd2,Nxa1', 'https://lichess.org/training/Mziho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MziMX', 'Classical', 'develone', 1697, 'MT83', 1713, 'e4,c5,Nc3,d6,Nf3,Bg4,Be2,Nf6,h3,Bd7,O-O,e6,d4,cxd4,Nxd4,Be7,Bd3,Nc6,Nf3,a6,a3,e5,Re1,Nd4,Bc4,Nxf3+,Qxf3,b5,Ba2,Bc6,Bg5,Bd7,Bxf6,Bxf6,Nd5,Be6,Rad1,Bxd5,Bxd5,Rc8,c3,O-O,Kh1,Bg5,g3,Qd7,g4,Bf4,h4,Kh8,Rg1,g6,g5,f6,Rg4,f5,exf5,Rxf5,Be4,Rff8,Qh3,Rc4,Bd5,Rc5,f3,Kg7,h5,Qd8,hxg6,h5,Qxh5', 'Rh8,Qh7+,Rxh7+', 'https://lichess.org/training/MziMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZJbF', 'Blitz', 'KeK_brain', 1739, 'alxsbg', 1739, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nd2,g6,Bc4,Bg7,O-O,O-O,Re1,d5,exd5,Nxd5,N2f3,Re8,Bg5,Nf6,Ne5,Rf8,c3,Nbd7,Nxd7,Bxd7,Qb3,Qc7,Nf3,Rae8,Rad1,Bc6,Ne5,e6,Nxf7,Rxf7,Bxe6,Nd5,Bxd5,Rxe1+,Rxe1,Bxd5,Qxd5,Qd7,Qc4,Qf5,Re8+,Bf8,Bh6', 'Qxf2+,Kh1,Qf1+,Qxf1,Rxf1#', 'https://lichess.org/training/MZJbF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mZjJc', 'Rapid', 'James3290', 1756, 'dz18a', 1843, 'e4,c5,Bc4,Nc6,Nc3,d6,d3,a6,a4,Nf6,h3,e6,Bg5,Be7,Nf3,O-O,O-O,h6,Bh4,Bd7,Ne2,Rb8,Ng3,b5,axb5,axb5,Bb3,b4,Re1,g5,Nxg5,hxg5,Bxg5,Nh7,Bf4,Ne5,Nh5,Ng6,Bd2,Bg5,Qe2,Bxd2,Qxd2,Qg5', 'Qxg5,Nxg5,Nf6+,Kg7,Nxd7', 'https://lichess.org/training/mZjJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzjLw', 'Rapid', 'ironblue', 1881, 'Matin1072', 1868, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,Bb4+,c3,dxc3,Nxc3,Bxc3+,bxc3,c6,Ba4,b5,Bb3,Ne7,Qf3,O-O,O-O,a5,Be3,a4,Bc2,Ng6,d4,d6,Qg3,Ne7,Bh6,Ng6,Be3,f5,exf5,Bxf5,Bxf5,Rxf5,Qg4,Rf7,h4,Nxh4,Bg5,Nf3+,gxf3,Qc7,Qe6,Rf8,Bf4,Qd7,Qxd7,Rxd7,Bg3,Rxf3,Rac1,d5,Rfe1,Rf6,Re8+,Kf7,Rce1,Rg6,Kf1,h5,Bh4,Rg4,Bd8,Re4,R1xe4,dxe4,Rh8,g6,Ba5,Kf6,Rf8+,Ke6,Bb4,Kd5,Rf6,Rh7,Rd6+,Kc4,Rxc6+,Kd3,Rxg6,h4,Kg2,h3+,Kh2,Ke2,Re6,Kf3,Bd6,Kxf2,Bg3+,Kf3,Rg6,e3,Rf6+,Ke2,Bf4,Kd3,Re6,e2,Re3+,Kd2,Rxh3+,Kd1,Bg3,Rc7,Bf2,Rf7,Kg2', 'Rxf2+,Kxf2,e1=Q+', 'https://lichess.org/training/mzjLw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzkt4', 'Rapid', 'Alekhine1927-1946', 2279, 'Sneharai', 2163, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Nxc6,bxc6,Bd3,d6,O-O,Nf6,Bg5,O-O,Qd2,Rb8,Rab1,Ng4,h3,Ne5,Bh6,c5,Bxg7,Kxg7,Be2,Be6,f4,Nc6,f5,Bd7,Nd5,Nd4,Nxe7,gxf5,Qg5+,Kh8', 'Qf6#', 'https://lichess.org/training/mzkt4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzkWb', 'Rapid', 'Modnar', 1865, 'Gismo', 1915, 'c4,g6,Nc3,Bg7,Nf3,d6,d3,c5,g3,Nc6,Bg2,Bd7,O-O,e5,h3,f5,Be3,Nf6,Qd2,O-O,Rad1,Qc8,Kh2,a6,Bh6,Rb8,Bxg7,Kxg7,e4,f4,gxf4,exf4,Qxf4', 'Ng4+,Qxg4,Bxg4', 'https://lichess.org/training/mzkWb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZL0C', 'Blitz', 'sup_beyotch', 1825, 'skaret', 1776, 'd4,Nf6,Nf3,e6,e3,b6,c4,Bb7,Nc3,d5,Be2,dxc4,Bxc4,Be7,O-O,O-O,e4,c5,e5,Nd5,Nxd5,Bxd5,Bxd5,exd5,Be3,cxd4,Bxd4,Nc6,Rc1,Rc8,Qa4,Nxd4,Nxd4,Bg5,f4,Bh4,Qxa7,Be7,Nf5,Bc5+,Kh1,Rc7,Qa4,Qc8,b4,Qxf5,bxc5,bxc5,Qa5,Qc8,f5,Rd8,f6,g6,Qd2,Kh8,Qh6,Rg8,Rf3,Qf8,Rh3,Qxh6,Rxh6,d4,Rf1,d3,Rf3,Rb7,Kg1,d2', 'Rxh7+,Kxh7,Rh3#', 'https://lichess.org/training/MZL0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzldE', 'Rapid', 'Evanderfey', 1886, 'hover', 1780, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,h6,Bc4,Be6,Qe2,Bxc4,Qxc4,Qd7,O-O,Nf6,Bf4,Be7,Rad1,Nh5,Bg3,Nxg3,fxg3,O-O,Kh1,Rab8,Rf3,Rxb2,Rdf1,Bf6,Rxf6,gxf6,Qd4,Rxc2,Rxf6,Rc1+,Nd1,Rb8,Rxh6,Rxd1+,Qxd1,Rb2,Qc1,Qg4,Rh4,Qg7,h3,Qxg3', 'Rg4+,Qxg4,hxg4', 'https://lichess.org/training/mzldE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZlxB', 'Blitz', 'GM sp1cycaterpillar', 2848, 'kasparik_garik', 2619, 'e4,e6,d4,d5,Nc3,Nc6,Nf3,Nf6,e5,Ne4,Bd3,Bb4,O-O,Nxc3,bxc3,Bxc3,Rb1,h6,Be3,Ba5,Nd2,Bb6,c3,Na5,f4,g6,g4,Qe7,Kh1,Bd7,f5,gxf5,gxf5,exf5,Bxf5,O-O-O,Qh5,Be6,Bf2,Nc4,Bh4,Qd7,Nxc4,dxc4,Bxd8,Rxd8,Bxe6,fxe6,Qf7,Qd5+,Qf3,Qa5,Rb2,a6,Rg2,Kb8,h3,Ka7,Kh2,c5,Rg7,Bc7,Qf7,Kb8,Qxe6,cxd4,cxd4,Rxd4,Kh1,c3,Qg8+,Ka7,Qf7,Kb8,Rg8+,Rd8,Rxd8+,Bxd8,e6,Qd5+,Kh2,Bc7+,Kg1,Bb6+,Kh2,c2,e7,Qxf7,Rxf7,c1=Q,e8=Q+,Ka7,Qe2', 'Qg1#', 'https://lichess.org/training/MZlxB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MzLZC', 'Blitz', 'mfacundoli', 1817, 'Zuniverse', 1795, 'e4,c5,a3,Nc6,b4,e5,b5,d6,bxc6,bxc6,Nc3,Nf6,d3,d5,Bg5,d4,Nce2,h6,Bxf6,Qxf6,Ng3,Be6,Nf3,Bd6,Be2,g5,h3,h5,Qd2,Be7,Nh2,g4,hxg4,h4,Nf5,h3,g3,Bxf5,gxf5,Kd7,Rb1,Rab8,O-O,Qg7,Qa5,Bh4,Qxa7+,Kd6,Rxb8,Bxg3,Rxh8', 'Bxh2+,Kh1,Qg2#', 'https://lichess.org/training/MzLZC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mZmK0', 'Blitz', 'test083', 1657, 'Not_so_Adarsh', 1614, 'Nf3,d5,d3,Nc6,c3,e5,g3,Bg4,Bg2,Bd6,O-O,Nf6,Bg5,h6,Bxf6,Qxf6,Nbd2,O-O,Qc2,Rae8,e4,dxe4,Nxe4,Qg6,Nh4,Qh7,Nxd6,cxd6,Rac1,Bf5,Nxf5,Qxf5,Rfe1,Re7,d4,Qxc2,Rxc2,exd4,Rxe7,Nxe7,cxd4,b6,a4,Rc8,Rxc8+,Nxc8,Bc6,Ne7,Be4,f5,Bf3,Kf7,Kf1,Kf6,Ke2,g5,Kd3,d5,b4,Ke6,h3,Kd6,Kc3,a6,Be2,a5,f3,axb4+,Kxb4,Nc6+,Kc3,h5,h4,gxh4,gxh4,f4,Bd3,Ne7,Kb4,Kc7,Kb5', 'Nc6,Bg6,Nxd4+,Kb4,Nxf3,Bxh5,Nxh4', 'https://lichess.org/training/mZmK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mZN61', 'Rapid', 'serdogmus', 2089, 'Ox41414141', 2161, 'e4,c5,Nf3,d6,c3,Nf6,Bc4,e6,Qe2,Nc6,Bb3,Be7,O-O,O-O,d4,cxd4,cxd4,a6,Bf4,d5,e5,Ne4,Nbd2,Nxd2,Qxd2,b5,Bc2,Qb6,Rac1,Bb7,Bh6,Rfc8,Qd3,g6,a3,b4,Rfd1,a5,Ng5,Ba6,Qh3,Nxd4,Nxh7,Ne2+,Kh1,Qxf2,Be3,Qh4,Qf3,Qxh7,Bd3,Nxc1,Bxa6,Rxa6,Bxc1,Rac6,Bf4,bxa3,bxa3,Rc3,Qe2,Bxa3,Bd2,R3c5,Be3,Rc4,Rf1,Qh5,Qf2,Rc2,Qxf7+,Kh8,Qf6+,Kg8,Qxe6+,Kh8,Bd4,Rc1,Qf6+,Kg8', 'Qf7+,Kh8,e6+,Qe5,Bxe5#', 'https://lichess.org/training/mZN61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZNbU', 'Rapid', 'TeamDroc', 1562, 'agooman', 1567, 'e4,Nc6,Nf3,h6,Nc3,Nf6,d4,d5,Bd3,dxe4,Nxe4,Bg4,h3,Nxe4,Bxe4,Bxf3,Bxf3,Nxd4,Be3,Nxf3+,Qxf3,e6,O-O,Bd6,Rad1,O-O,Qxb7,Qf6,b3,Qb2,Qf3,Qxc2,Qg4,Qxa2,Bxh6,Be5,Rfe1,Bf6,Bg5,Bxg5,Qxg5,Qxb3,Rd7,Qc3,Rc1,Qb4,Rdxc7,a5,Qc5,Qxc5,R7xc5,a4,Ra1,a3,Rc3,a2,Rc2,Rfd8,Raxa2,Rxa2,Rxa2,Rd1+,Kh2,Kh7,g4,Kg6,Kg3,f6,h4,Rd3+,f3,e5,Re2,Kf7,Re4,g6,h5,gxh5,gxh5,Kg7,Rh4,Kh6,Kg4', 'Rd4+,Kh3,Rxh4+,Kxh4,f5', 'https://lichess.org/training/MZNbU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MzoES', 'Rapid', 'RioLinge', 2308, 'Juegoe4', 2162, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,d3,Bg7,O-O,Bg4,h3,Bxf3,Qxf3,Nf6,Be3,Nd7,Nc3,O-O,Qe2,e5,Qd2,f5,f3,f4,Bf2,Bf6,b3,Bh4,Na4,b6,Nb2,Bxf2+,Qxf2,Nf6,Qh4', 'Qd4+,Qf2,Qxb2', 'https://lichess.org/training/MzoES');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZOIB', 'Rapid', 'logiclogiclogiclogic', 2199, 'resonanceQ', 2075, 'd4,d5,c4,c6,e3,Nf6,Nf3,Bg4,h3,Bh5,Nc3,e6,Be2,Nbd7,Qb3,Qb6,Qxb6,axb6,cxd5,exd5,O-O,b5,g4,Bg6,Ne5,Bc2,g5,Ne4,Nxe4,Bxe4,Nxd7,Kxd7,Bg4+,Ke8,f3,Bg6,Bd2,Be7,h4,f6,gxf6,Bxf6,h5,Bd3,Rfd1,h6,Bc3,Bh7,e4,dxe4,fxe4,Be7,Be6,b4,Be1,Bxe4,Bg3,Rf8,Re1,Bf3,Re3,Kd8,Rae1,Bxh5,Bh3,Bf6,Bd6,Re8,Rxe8+,Bxe8,d5,Rxa2,dxc6,Bxc6,Rd1,Ke8,Bg4,Kf7,Re1,g6', 'Be6+,Kg7,Bxa2', 'https://lichess.org/training/MZOIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzpFX', 'Rapid', 'Gadjiev', 1755, 'Franshtein', 1657, 'e4,c5,Nf3,Nc6,a3,h6,c4,e6,Nc3,a6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Be2,f6,O-O,b6,Qd3,Bb7,e5,dxe5,Bh5+,Ke7,Qg6,Qe8,Qg4,Qc6,Be3,f5,Qg6,Qe8,Qxe8+,Rxe8,Bxe8,Kxe8,Bxb6,Nf6,f3,Be7,Rfe1,e4,fxe4,Nxe4,Nxe4,Bxe4,b4,Bf6,Rad1,Kf7,g4,Kg6,Be3,fxg4,Bd4,Bf3,Rd3,Bh4,Rxe6+,Kh7,Rxa6,Re8,Re3,Rd8,Rd3,Be2,Rd2,Bxc4,Ra7,Bg5,Rxg7+,Kh8,Rd7+,Kg8,Rg7+,Kf8,Rf2+,Ke8,Bc5,Rd1+,Kg2,Bd5+,Kg3', 'Rg1+,Rg2,Rxg2#', 'https://lichess.org/training/mzpFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mZqYH', 'Rapid', 'pavel1973', 1712, 'Shadowraze3', 1770, 'e4,e5,Bc4,a6,d4,b5,Bb3,exd4,Nf3,Be7,e5,Bb7,O-O,Nc6,Re1,Na5,Nxd4,Bg5,f4,Bh4,g3,Be7,Nc3,Bc5,Ne2,Nxb3,axb3,Ne7,Be3,O-O,c3,Nd5,Bf2,Re8,b4,Bxd4,Nxd4,Nb6,Nf5,g6,Qg4,h5,Qh3,gxf5,Qxf5,Re6,Qxh5,Qf8,f5,Rh6,Qg5+,Qg7,Qf4,Re8,Be3,Rh7,Bd2,Qh8,h4,Nc4,Bc1,Kf8,e6,dxe6,fxe6,Nd6,Qf1,Qg7,Bf4,Rxe6,Rxe6,fxe6', 'Bh6+,Nf5,Bxg7+', 'https://lichess.org/training/mZqYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZr6D', 'Rapid', 'Honbomb', 1660, 'm7mark', 1664, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nc3,c6,Nxd5,Qxd5,Bf4,Nd7,b3,e5,dxe5,Nxe5', 'Qxd5,cxd5,Bxe5', 'https://lichess.org/training/MZr6D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZRNR', 'Rapid', 'Mateus_Xadrez', 1690, 'NtnWill', 1704, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,Nf3,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,Re1,e5,d5,Nb8,Bg5,Nbd7,b4,Qc7,Qe2,Qb6,Rab1,a5,bxa5,Qxa5,Nb5,Nc5,Bxf6,Bxf6,Nxd6,Bg4,Nxb7,Nxb7,Rxb7,Rac8,d6', 'Bxf3,gxf3,Rxc4,Qxc4,Qxe1+', 'https://lichess.org/training/MZRNR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MzSap', 'Blitz', 'W-T-N', 1840, 'Dishonest-John', 1843, 'd4,Nf6,c4,c5,d5,b5,b3,e6,dxe6,fxe6,e3,b4,Nf3,Be7,Be2,O-O,O-O,Ne4,Bb2,Bf6,Qc2,Bb7,Rd1,d5,cxd5,exd5,Bd3,Qe7,Bxe4,dxe4,Nfd2,Nd7,Nc4,Bh4,g3,Bf6,Nbd2,Ne5,Nxe5,Bxe5,Nc4,Bxb2,Qxb2,Bc8,Rd2,Bg4,Rad1,Bf3,Rd7,Qg5,R1d5,Qh6,R5d6,Rf6,Rd8+,Rxd8,Rxd8+,Kf7,Ne5+,Ke7,Rd7+,Ke8,Qd2', 'Qxh2+,Kxh2,Rh6+,Kg1,Rh1#', 'https://lichess.org/training/MzSap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mZsC5', 'Blitz', 'ELIAN_2020', 2132, 'jabierob21', 2160, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Qc7,Qe2,Nc6,Nxc6,Qxc6,O-O,Bc5,Nd2,Ne7,Nf3,d6,b3,e5,h3,Ng6,Kh2,b5,g3,Bb7,a3,O-O,h4,Ne7,c4,h6,g4,bxc4,bxc4,Qd7,Rg1,Bc8,Rg3,Rb8,h5,Kh8,Be3,Bxe3,Qxe3,Ng8,Rag1,Nf6,g5,Nxh5,gxh6,g6,Qg5,Rb3,Nh4,Nxg3', 'Qf6+,Kh7,Qg7#', 'https://lichess.org/training/mZsC5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzSed', 'Rapid', 'meron1', 1612, 'danlop', 1617, 'd4,d5,h3,Bf5,Bf4,Nc6,Nf3,Nb4,Na3,e6,c3,Nc6,Nc2,Bxc2,Qxc2,Nf6,e3,Bd6,Bxd6,Qxd6,Bd3,O-O-O,a4,e5,Bf5+,Kb8,dxe5,Nxe5,Nxe5,Qxe5,Bd3,d4,cxd4,Rxd4,O-O,Rh4,Qb3,Qg5,Kh2,Ng4+,Kg1,Rxh3,gxh3', 'Nxe3+,Kh1,Qg2#', 'https://lichess.org/training/mzSed');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzsGT', 'Rapid', 'FranzKalta', 1693, 'ToxicLeo', 1682, 'e4,c5,Bc4,e6,Nf3,d5,Bb5+,Nd7,exd5,exd5,Qe2+,Be7,Ne5,a6,Nxf7,Kxf7,Qf3+,Ke8,Bxd7+,Qxd7,O-O,Nf6,d3,Rf8,Qg3,Kf7,Nc3,d4,Ne4,Nxe4,dxe4,Kg8,e5,Qd5,f4,Bf5,Bd2,Bxc2,f5,Bxf5,Bh6,Bg6,Bf4,b5,Rae1,a5,e6,b4,Re5,Qxa2,Bg5,Rxf1+,Kxf1,Rf8+,Bf4,Qb1+,Re1,Bd3+,Kg1,Rxf4', 'Rxb1,Bxb1,Qxf4', 'https://lichess.org/training/mzsGT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MzTYW', 'Blitz', 'Zeevaarder', 1530, 'DonSach', 2143, 'e4,c5,d3,Nc6,Nd2,g6,Ngf3,Bg7,g3,Rb8,Bg2,d6,O-O,b5,h3,Nf6,Re1,O-O,c3,b4,d4,cxd4,Nxd4,Bd7,Nxc6,Bxc6,Nb3,Nd7,Nd4,Bb7,c4,Rc8,b3,Nc5,h4,Qb6,Bh3,Rcd8,Bg2,Ne6,Nxe6,fxe6,Bg5,Qxf2+,Kh2,Bxa1,Qxa1,Rf3,Bf4,e5,Rf1,exf4,Rxf2,fxg3+,Kh3,Rxf2,Kxg3,Rdf8,Qd4,e5,Qxa7,R8f7,Qb8+,Kg7,Qxd6,Rxg2+,Kxg2,Bxe4+,Kg3,Rf3+,Kg4', 'h5+,Kg5,Rg3#', 'https://lichess.org/training/MzTYW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZvdF', 'Rapid', 'kkatos', 1792, 'Cannonbait', 1831, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,b6,Bxf6,exf6,Nf3,Be6,b3,c5,e3,Nc6,Be2,Be7,O-O,O-O,cxd5,Bxd5,Nxd5,Qxd5,Bc4,Qd7,d5,Ne5,e4,b5,Be2,Rac8,a4,a6,axb5,axb5,Nxe5,fxe5,Qd3,c4,bxc4,bxc4,Qc3,Qb5,Qxe5', 'Bf6,Qf4,Bxa1', 'https://lichess.org/training/MZvdF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzwE0', 'Blitz', 'Equuleus', 2015, 'Betatier', 1974, 'd4,d5,c4,c6,Nc3,e6,e4,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,b6,Bd3,Bb7,O-O,Nd7,b4,O-O,a4,c5,dxc5,bxc5,b5,Bxf3,gxf3,Qxf3,Qc2,Nf6,Rae1,h5,Re3,Qg4+,Rg3,Qf4,Kh1,Rad8,Rfg1,g6,Bxg6,fxg6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/mzwE0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mZy7p', 'Rapid', 'altered-pulse', 1723, 'Adrielcabello', 1637, 'd4,d5,Bf4,Bf5,e3,e6,Bd3,Bg6,c3,c5,Nf3,cxd4,exd4,Nf6,Ne5,Nbd7,g4,Nxe5,Bxe5,Be7,f4,O-O,Bxf6,Bxd3', 'Bxe7,Qxe7,Qxd3', 'https://lichess.org/training/mZy7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MzYde', 'Rapid', 'Delta00', 1691, 'Suskunkral', 1618, 'e4,e5,Nf3,Bc5,Nxe5,d6,Nf3,Nf6,h3,Nxe4,d3,Nxf2,Qe2+,Be6,d4,Nxh1,dxc5,Ng3,Bg5,Qxg5,Nxg5,Nxe2,Bxe2,dxc5,Nc3,c6,O-O-O,O-O,Re1,Bd5,Nxd5,cxd5,Rd1,d4,Bd3,f5,Ne6,Rf7,Nxc5,b6,Ne6,Nc6,g4,fxg4,hxg4,Ne5,Be4,Re8,Ng5,Rf4,Bxh7+,Kh8,Rh1,Nxg4', 'Bg6+,Kg8,Bxe8', 'https://lichess.org/training/MzYde');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mzYpz', 'Rapid', 'Matetrap1', 2020, 'Kefer', 2015, 'd4,Nf6,Nf3,e6,e3,d5,Bd3,Bd6,O-O,O-O,Nbd2,c6,Re1,Re8,Nf1,Nbd7,c3,e5,dxe5,Nxe5,Nxe5,Bxe5,h3,Qc7,Qf3,Bd7,g4,Ne4,Kg2,h6,Nd2,Ng5,Qe2,h5,Nf3,Nxh3,Nxe5,Qxe5,f4,Nxf4+,exf4,Qxe2+,Rxe2,Bxg4,Rxe8+,Rxe8,Kf2,f5,Be3,a6,Be2,Kf7,Bxg4,hxg4,Bd4,Re4,Be5,b5,Re1', 'g3+,Kxg3,Rxe1', 'https://lichess.org/training/mzYpz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mZZiJ', 'Classical', 'LolloTiacci', 1652, 'NikosKG', 1630, 'd4,Nf6,c4,g6,Nc3,d5,e3,e6,Nf3,Bb4,a3,Bxc3+,bxc3,Nc6,cxd5,Nxd5,c4,Nde7,e4,a6,Bg5,b6,d5,exd5,cxd5,Na7,Bf6,Rg8,Qd2,Bb7,Qh6,Qd6,Be5,Qc5,Rc1,Qa5+,Rc3,Nxd5,exd5,Bxd5,Qxh7,O-O-O,Be2,Bxf3,Bxf3,Rge8,Qh3+,f5,Qg3,Nb5,O-O,Nxc3,Bxc7,Rd7,Bd6,Red8,Bb4,Qd5,Bxd5', 'Ne2+,Kh1,Nxg3+', 'https://lichess.org/training/mZZiJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('mZZQ7', 'Blitz', 'petros-ian', 1882, 'Massanto', 1880, 'd4,d5,Bf4,Nf6,Nf3,Bg4,Nbd2,Nc6,e3,Ne4,Be2,Nxd2,Qxd2,Bxf3,Bxf3,e6,O-O-O,Bd6,Bg3,Bxg3,hxg3,Qf6,e4,dxe4,Bxe4,Rd8,Bxc6+,bxc6,Qc3,O-O,Rh4,Qxf2,Qxc6,Qxg3,Rdh1,h6,Qe4,Qg5+,Kb1,Rd5,Rg4,Qf5,Qe2,Kh7,Kc1,Rfd8,c3,c5,Rgh4,cxd4,Qd2,dxc3', 'Rxh6+,gxh6,Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/mZZQ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('MZzXE', 'Rapid', 'GvZ', 1636, 'renato0', 1729, 'd4,c5,dxc5,Nc6,e3,e6,Nf3,Bxc5,Be2,Nf6,O-O,O-O,c3,e5,Nbd2,d6,Nb3,Bb6,Bb5,Bg4,Bxc6,bxc6,h3,Bh5,g4,Bg6,Nbd2,d5,Nxe5,Qd6,Nxg6,fxg6,f4,Rae8,Nc4,Qc7,Nxb6,axb6,Rf3,Ne4,Qb3,Rf7,a4,Rd7,Qc2,c5,b3,Red8,Bb2,Qc6,Rd1,Nf6,Kf2,Ne4+,Kg2,b5,axb5,Qxb5,c4,Qb7,cxd5,Rxd5,Rxd5,Qxd5,Qc4', 'Qxc4,bxc4,Rd2+,Kg1,Rxb2', 'https://lichess.org/training/MZzXE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n0190', 'Rapid', 'Oleg19581', 1610, 'bubael', 1607, 'e4,e5,f4,exf4,Nf3,d6,d4,Bg4,Bc4,Bxf3,Qxf3,Qh4+,g3,fxg3,Qxf7+,Kd8,Qxf8+,Kd7,Qf7+,Ne7,Be6+,Kd8,Qf4', 'g2+,Qxh4,gxh1=Q+', 'https://lichess.org/training/n0190');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n01Yf', 'Rapid', 'sergey_med', 1966, 'adrinarian1400', 2015, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,d3,d6,h3,O-O,Bg5,Be6,Nd5,Bxd5,Bxd5,h6,Bh4,Rb8,a3,a6,b4,Bd4,Nxd4,Nxd4,c3,Ne6,Qf3,Ng5,Bxg5,hxg5,Ba2,c6,Qf5,Nh7,g3,Qf6,Qg4,d5,exd5,cxd5,Bxd5,e4,d4,Rfd8,Bxe4,Re8,O-O,Nf8,Qf5,Qe7,Rae1,g6,Qd5,Qf6,f4,Red8,Qxg5,Qxg5,fxg5,Rdc8,Rf3,Ne6,h4,Rc7,Bd5,Re8,Rf6,Rxc3,Rf3,Rc7,Bb3,b5,d5,Ng7,Rxe8+,Nxe8,Re3,Nd6,Kf2,Kg7,Kf3,Nf5,Rd3,Rd7,Kf4,Rd6,g4,Nxh4,Rg3,f6,gxf6+,Rxf6+,Kg5,Nf3+,Rxf3,Rxf3,Bc2,Rxa3,d6,Kf7,Bxg6+,Ke6,Bf5+,Kxd6,Kf6,Rb3,g5,Rxb4', 'g6,Rb3,g7,Rg3,Bg6', 'https://lichess.org/training/n01Yf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N090S', 'Blitz', 'andrusha1986', 1886, 'Sasha37', 1652, 'e4,c6,d3,d5,e5,Bf5,f4,e6,Nf3,Be7,Be3,Nd7,d4,f6,Nc3,a6,Be2,h5,Nh4,Bh7,Bxh5+,g6,Nxg6,Bxg6,Bxg6+,Kf8,Qg4,f5,Bxf5,exf5,Qxf5+,Ndf6,exf6,Bxf6,O-O-O,b5,Ne2,Nh6,Qg6,Qe7,Rd3,Re8,f5,Qg7,Bxh6,Qxh6+,Qxh6+,Rxh6,Nf4,Bg5,g4,Bxf4+,Kd1,Re4,Rf1,Rxh2,f6,Kf7,Rdf3,Bg5,c3,Ree2,Re1,Rd2+,Kc1,Rc2+,Kb1,Rxb2+,Ka1,Rhc2,Re7+,Kg6', 'Rg7+,Kh6,Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/N090S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N0AGU', 'Rapid', 'Mo982', 1737, 'llorin', 1777, 'e4,e5,Nf3,d6,Bc4,f5,exf5,Bxf5,d4,e4,Nfd2,d5,Bb3,Nf6,f3,Bb4,c3,Bd6,O-O,O-O,fxe4,Bxe4,Nxe4,Nxe4,Bxd5+,Kh8,Rxf8+,Qxf8,Bxe4,Nc6,Na3,Re8,Bxc6,bxc6,Bd2,Re4,Nc4,Be7,Qc2,Re2,Qd3', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/N0AGU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N0caP', 'Blitz', 'abahrisan', 1527, 'thisisfinetoo', 1554, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,Be7,Bg5,O-O,Bb5,a6,Bd3,b5,O-O,Be6,Bxf6,Bxf6,Nd5,Bxd5,exd5,Nd7,c4,Qb6,cxb5,axb5,Nd2,Nc5,Nb3,Nxd3,Qxd3,Rac8,Rac1,Bg5,Rxc8,Rxc8,g3,Qd8,f4,exf4,gxf4,Bf6,Qxb5,Rb8,Qa5,Qc8,Re1,Qg4+,Kf1,Qxf4+,Ke2,Qxh2+,Kd1,Qxb2,Qc7,Rf8,Qxd6,Qxa2,Nc5,Qa1+,Ke2,Qb2+,Kd1,Bg5', 'Qxf8+,Kxf8,Nd7+,Kg8,Re8#', 'https://lichess.org/training/N0caP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n0FID', 'Rapid', 'alanianke', 1657, 'mistertd', 1899, 'Nf3,d5,d4,g6,c4,c6,Nc3,Bg7,Bg5,Nf6,e3,O-O,Bd3,Bg4,O-O,Ne4,Nxe4,dxe4,Bxe4,f5,Bc2,Nd7,c5,Nf6,Bb3+,Kh8,h3,Bh5,Qd3,Bxf3,gxf3,h6,Bf4,Nd5,Bh2,e6,Kh1,Qh4,Rg1,Qxh3,Rg3,Qh5,f4,Rfe8,Rag1,Nf6,Kg2,Ng4,Rh3', 'Qxh3+,Kxh3,Nxf2+,Kg2,Nxd3', 'https://lichess.org/training/n0FID');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n0jDm', 'Rapid', 'Mr_Vovkin', 1720, 'Kerem48', 1701, 'e4,c5,Bc4,e6,Nf3,Nf6,Nc3,Be7,O-O,O-O,d4,cxd4,Nxd4,Nc6,Be3,d5,Bd3,dxe4,Nxe4', 'Nxd4,Nxf6+,Bxf6', 'https://lichess.org/training/n0jDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N0kbV', 'Rapid', 'flowash', 1881, 'DiplomatChess', 1985, 'e4,c6,Nc3,d5,f4,dxe4,Nxe4,Bf5,Ng3,Bd7,Nf3,Nf6,Bc4,Bg4,h3,Bxf3,Qxf3,e6,O-O', 'Qd4+,Qf2,Qxc4', 'https://lichess.org/training/N0kbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N0mJ6', 'Blitz', 'EOblomoff', 1603, 'HELLOEVERYONE_164', 1605, 'e4,c5,d3,e6,Nf3,d5,exd5,exd5,d4,Nc6,c3,Bg4,Be2,Nf6,h3,Bh5,Bg5,Be7,Nbd2,h6,Bh4,Qd7,Qc2,g5,Bg3,O-O-O,O-O-O,Bg6,Qa4,Ne4,Bb5,h5,Ne5,Nxg3,Bxc6,bxc6,fxg3,Kb8,Nxc6+,Ka8,Qa6,Bf6,Nxd8,Rxd8,Rhf1,Bg7,Nb3,cxd4,Nc5,Qc7,Rxd4,Qxc5,Rfd1,Rc8,Rxd5,Qe3+,R5d2,Rxc3+,bxc3', 'Qxc3+,Rc2,Qxc2#', 'https://lichess.org/training/N0mJ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n0mWE', 'Rapid', 'folkfurball', 1690, 'ruzgar-bg', 1616, 'e4,e5,Nf3,Nc6,Bb5,Qe7,O-O,Nf6,Re1,a6,Ba4,b5,Bb3,Nd4,Nxd4,exd4,d3,d6,Bg5,Be6,Bxe6,Qxe6,Qf3,Be7,Nd2,O-O,c4,dxc3,bxc3,c5,c4,b4,a3,a5,axb4,axb4,Nb3,Rad8,Ra6,Qe5,Be3,Qc3,Qd1,Ng4,Bc1,Qf6,Rf1,h5,h3,Ne5,f4,Nd7,Qxh5,Qc3,Qd1,Bf6,Rxd6,Bd4+,Nxd4,cxd4,Rf2,Qa1,Rf1,Qa7,Qb3', 'Nc5,Qxb4,Rxd6', 'https://lichess.org/training/n0mWE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N0oXA', 'Rapid', 'PAPAFENIX95', 2167, 'Dr_Mortis', 2124, 'e4,d6,d4,Nf6,Nc3,c6,Bg5,Nbd7,Nf3,h6,Be3,e5,Bc4,b5,Bd3,a6,a3,Qc7,b4,Be7,O-O,O-O,Nd2,exd4,Bxd4,c5,bxc5,dxc5,Be3,c4,Be2,Bb7,f3,Rfd8,Qc1,Bc5,Bxc5,Qxc5+,Kh1,Qe3,Ndb1,Qc5,Qf4,Nb6,Nd2,Nh5,Qg4,Rxd2,Rad1,Rad8,Nd5,R8xd5,exd5,Qxd5,Rxd2,Qxd2,Rd1,Qxe2,Rd8+,Kh7', 'Qf5+,g6,Qxf7+,Ng7,Qg8#', 'https://lichess.org/training/N0oXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n0P7K', 'Rapid', 'al_fil', 1686, 'David-Ander', 1713, 'c4,e5,g3,Nf6,Bg2,c6,d3,Be7,Nd2,O-O,Ne4,Nxe4,Bxe4,d5,cxd5,cxd5,Bg2,Be6,Nf3,Nc6,O-O,Re8,b3,Qc7,Bb2,d4,Rc1,Qd6,a4,Bf8,Ra1,Qc7,Ng5,Bf5,Bxc6,bxc6,Rc1,Rac8,Nf3,Bh3,Re1,Qe7,Ra1,f5,Ba3,Qf6,Qc2,Bxa3,Rxa3,Qe7,Qc4+,Kh8,b4,e4,dxe4,fxe4,Nxd4,e3,Rxe3,Qf6,Rxe8+,Rxe8,Qd3,Rf8,f3,Rd8,Rd1,Bf5,e4,Bg6,Qe3,Bh5,g4,Bf7,Kg2,h5,g5,Qd6,e5,Qxb4,Nxc6', 'Qb2+,Qf2,Qxf2+,Kxf2,Rxd1', 'https://lichess.org/training/n0P7K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n0Qaa', 'Rapid', 'Maritomarito', 1791, 'CelesMoor', 1757, 'Nf3,d6,g3,e6,Bg2,Nc6,O-O,Nf6,b3,Be7,Bb2,O-O,d3,Bd7,Nbd2,Rb8,c4,Qc8,a3,Re8,b4,h6,b5,Nd8,a4,c6,Qc2,e5,Qc3,Bh3,d4,e4,Ne1,Bxg2,Nxg2,d5,cxd5,cxd5,Qxc8,Rxc8,Rfc1,Ne6,e3,Ng5,h4,Nf3+,Nxf3,exf3,Ne1,Bb4,Nxf3,Ne4,Rxc8,Rxc8,Rc1,Bc3,Kg2,Rc7,b6,axb6,Ng1,Rc4,f3,Bd2', 'Rxc4,dxc4,fxe4', 'https://lichess.org/training/n0Qaa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N0qE6', 'Rapid', 'tosmilesplease', 1661, 'fil2020', 1667, 'd4,d5,c4,dxc4,e3,b5,a4,Bd7,axb5,Bxb5,Nc3,c6,Nxb5,cxb5,Qf3,Nd7,b3,e6,bxc4,bxc4,Bxc4,Bb4+,Bd2,Bxd2+,Kxd2,Ne7,Bb5,Rb8,Bxd7+,Qxd7,Ne2,O-O,Nf4,Qc7,Rhc1,Rb2+,Ke1,Qb6,Nd3,Rb3,Nc5,Qb4+,Kf1,Rb2,Kg1,Nd5,Nd3,Qb5,Nxb2,Qxb2,Qd1,Nc3,Rc2', 'Nxd1,Rxb2,Nxb2', 'https://lichess.org/training/N0qE6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n0s4x', 'Rapid', 'Rendi84', 1939, 'mutiaralaut', 2039, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,Bc4,Bb4,f3,h6,O-O,O-O,Kh1,Bxc3,bxc3,d5,exd5,cxd5,Bb3,Bb7,a4,Re8,Ba3,Qc7,Qd2,Rad8,Rae1,e4,Qd4,Ba6,Rg1,exf3,Rxe8+,Rxe8,gxf3,Be2', 'Qxf6,Bxf3+,Qxf3', 'https://lichess.org/training/n0s4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n0tgW', 'Rapid', 'Qchess30303', 1863, 'Pavan-_-Rao', 1888, 'd4,d5,Nf3,Nf6,Bg5,h6,Bh4,c5,dxc5,Bg4,h3,Bh5,b4,Nbd7,Nc3,e6,g4,Bg6,e3,Be7,Bd3,Rc8,Bxg6,fxg6,Qd3,g5,Qg6+,Kf8,Bxg5,hxg5', 'Nxg5,Qe8,Nxe6+,Kg8,Qxg7#', 'https://lichess.org/training/n0tgW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n0uIw', 'Blitz', 'nikosadallas', 2060, 'WIM AnaBerke', 2223, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bg5,Bd7,Bb5,Nxd4,Bxd7+,Qxd7,Qxd4,e5,Qd3,Be7,Bxf6,Bxf6,O-O-O,O-O,Qxd6,Qg4,Kb1,a5,Nd5,Qxe4,Nxf6+,gxf6,Qxf6,Ra6,Qg5+,Rg6,Qe3,Qxe3,fxe3,Rxg2,Rhg1,Rxg1,Rxg1+,Kh8,Kc1,f5,Kd2,Rg8,Rf1,Rg2+,Kc3,Rg5,Kc4,Kg7,Kb5,Kf6,Kxa5,Rg2,Kb6,Rxc2,a4,Rxb2+,Kc7,Ra2,Kxb7,Rxa4,Rf2,Re4,Rf3,Kg5,Kc6,Kg4,Rg3+,Kh4,Kd5,f4,Kxe4', 'fxg3,hxg3+,Kxg3,Kxe5,h5,e4,h4,Kd6,h3,e5,h2,e6,h1=Q', 'https://lichess.org/training/n0uIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N0wvL', 'Rapid', 'Abdulmalik2000', 1992, 'Antony_N', 2017, 'c4,f5,Nf3,Nf6,Nc3,e6,d4,d5,c5,c6,Bg5,Be7,g3,O-O,Bg2,a5,a4,Ne4,Bxe7,Qxe7,Nxe4,fxe4,Ne5,Nd7,Nxd7,Bxd7,O-O,e5,e3,exd4,exd4,Qf6,Qd2,Bg4,Ra3,Qd8,h3,Bf3,Re1,Qd7,Ree3,Bxg2,Kxg2,Rf7,b4,axb4,Qxb4,Qf5,Ra2,Raf8,Qe1,Qd7,a5,Qe7,f4,exf3+,Kf2,Qf6,Rd2,Qf5,Qf1,Qg5,h4,Qh6,Rdd3,Qh5,Qh3,Qh6,Qe6,Qxe6,Rxe6,Ra8,Rxf3,Rxf3+,Kxf3,Rxa5,Re8+,Kf7,Rb8,Ra3+,Kf4,Ra7,Ke5,Ke7,g4,Kd7,h5,Kc7,Rg8,b5,cxb6+,Kxb6,Rb8+,Rb7,Rh8,Kb5', 'Rxh7,Re7+,Kd6', 'https://lichess.org/training/N0wvL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n0x3B', 'Blitz', 'Cwk_jaiden_s', 2430, 'FM TheRigos', 2527, 'e4,f5,e5,d6,exd6,cxd6,d4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,Nc6,Re1,Ne4,Nc3,e5,d5,Nxc3,bxc3,Na5,Bd2,b6,Qe2,Bb7,c4,Qc8,Bxa5,bxa5,Rab1,h6,Nd2,Ba6,Bf1,e4,Qe3,Kh7,Nb3,Qc7,Nd4,Bxd4,Qxd4,Rac8,Rb2,Rf7,Reb1,Bxc4', 'Rb7,Qxb7,Rxb7', 'https://lichess.org/training/n0x3B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n15Zt', 'Rapid', 'ylnardav2', 1644, 'Art_of_Chess', 1624, 'e4,e5,Nf3,d6,Bc4,h6,c3,Nf6,d3,c6,Be3,Ng4,Bd2,Nf6,Qb3,Qd7,h3,b5,Bxf7+,Qxf7,Qxf7+,Kxf7,O-O,Be7,Re1,Ba6,d4,Rf8,dxe5,dxe5,Nxe5+,Kg8,Ng6,Rf7,e5,Nh7', 'e6,Rf6,Nxe7+', 'https://lichess.org/training/n15Zt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n18vS', 'Rapid', 'The_556_2000_512', 2165, 'eddyzi', 2258, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Qb3,dxc4,Qxc4,O-O,e4,a6,Be2,b5,Qb3,Bb7,e5,Nd5,O-O,Nxc3,bxc3,c5,a4,cxd4,cxd4,Nc6,axb5,Nxd4,Nxd4,Qxd4,Bb2,Qb6,Qa3,e6,bxa6,Bxa6,Bxa6,Rxa6,Qxa6,Qxb2,f4,Bh6,Rab1,Qd4+,Kh1,Bxf4,Rbd1,Qxe5,Rde1,Qc7,g3,Bh6,Rf6,Bg7,Rf3,Qc5,Ref1,Qd5,h3,Ra8,Qe2,Ra3,Kh2', 'Ra2,Qxa2,Qxa2+', 'https://lichess.org/training/n18vS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n1cwN', 'Rapid', 'CM Wild_of_luck', 2270, 'FM NilsR', 2265, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c6,Bg5,h6,Bh4,dxc4,e4,g5,Bg3,b5,Be2,b4,Na4,Nxe4,Be5,Rg8,Bxc4,g4,Nd2,Nxd2,Qxd2,Nd7,Bf4,Qa5,b3,h5,O-O,Nb6,Nc5,Bxc5,dxc5,Nxc4,bxc4,Ba6,a3,Qxc5,axb4,Qxc4,Rfc1,Rd8,Qxd8+,Kxd8,Rxc4,Bxc4,Rxa7,e5', 'Ra8+,Ke7,Rxg8', 'https://lichess.org/training/n1cwN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N1E3x', 'Rapid', 'Vacpi92', 1649, 'gala31', 1584, 'c4,c5,e3,e6,Ne2,d5,cxd5,exd5,Nbc3,Nf6,Qa4+,Nc6,Nf4,Be7,Bb5,O-O,Bxc6,bxc6,Qxc6,Rb8,Nfxd5,Nxd5,Nxd5,Bb7,Nxe7+,Qxe7,Qa4,Rfe8,O-O,Qg5,f3,h6,Qxa7,c4,d3,cxd3,Qd4,Red8,Qc3,Qg6,Bd2,Rdc8,Qb3,Ba6,Qa3,Bc4,b3,Be6,Rf2,Ra8,Qb2,Rab8,Rc1,Rxc1+,Qxc1,Ra8,Qb2,Rc8,Bc3,Rf8,a4,Rc8,a5,Bf5,Rd2,Qa6,Bxg7,f6,Bxh6,Qxa5,Bf4', 'Rc2,b4,Rxb2,bxa5,Rxd2', 'https://lichess.org/training/N1E3x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N1ezf', 'Classical', 'xuy', 1694, 'JHoWnzor', 1702, 'd4,Nf6,c4,d6,Nc3,g6,e4,Bg7,Nf3,O-O,h3,c6,Bd3,Na6,a3,Nc7,O-O,d5,e5,Nd7,b3,Ne6,Be3,f6,Qd2,fxe5,dxe5,Rxf3,cxd5,cxd5,Nxd5,Nxe5,Bc4,Nxc4,bxc4,Rxe3,Qxe3,Bxa1,Rxa1,b5,Rd1,bxc4', 'Nf6+,exf6,Rxd8+,Nxd8,Qe8+,Kg7,Qxd8', 'https://lichess.org/training/N1ezf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N1fWm', 'Rapid', 'tartaprone', 2106, 'hello19', 2058, 'c4,c5,Nf3,b6,g3,Bb7,Bg2,g6,O-O,Bg7,Nc3,e6,e3,Ne7,d4,cxd4,exd4,d6,Re1,O-O,Bg5,h6,Be3,Nf5,Qd2,Nxe3,fxe3,Nd7,e4,Rc8,b3,a6,Rac1,Nf6,Bh3,h5,d5,Ng4,Nd1,exd5,exd5,Re8,Nf2,Rxe1+,Rxe1,Qd7,Qf4,Re8,Rxe8+,Qxe8,Bxg4,hxg4,Nxg4,Bc8,Nf6+,Bxf6,Qxf6,Qe3+,Kg2', 'Qe2+,Kg1,Bh3,Qxf7+,Kxf7', 'https://lichess.org/training/N1fWm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n1ho8', 'Rapid', 'jtobin', 1619, 'Collo_bk', 1647, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,e6,Bc4,Be7,Ne5,Nc6,Nxc6,bxc6,d3,Nf6,O-O,Nd5,Ne4,O-O,Qh5,Nf6,Nxf6+,Bxf6,Qg4,e5,Qf3,Bb7,Be3,a5,Bc5,Re8,Rfe1,Ba6,Bb3,Bb7,Qh5,g6,Qf3,a4,Bc4,Ra5,Bb4,Ra7,Bc5,Ra5,Bb4,Ra7,Ba3,c5,Qe3,Qd7,Bxc5,Ra5,Bb4,Qc6,f3,Raa8,Qe4', 'Qb6+,Qe3,Qxb4', 'https://lichess.org/training/n1ho8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N1i01', 'Blitz', 'IM ChessExplained', 2579, 'GM DizzasterFritz', 2542, 'Nf3,d5,e3,c5,b3,Nc6,Bb2,e6,Bb5,Bd7,O-O,Nf6,d3,a6,Bxc6,Bxc6,Ne5,Rc8,Nd2,Bd6,f4,O-O,Nxc6,Rxc6,Qe2,b5,a4,c4,axb5,axb5,bxc4,bxc4,Bd4,cxd3,cxd3,Nd7,Rfc1,Qc8,Qd1,Nc5,Nf3,f6,Bxc5,Bxc5,d4,Bd6,Rxc6,Qxc6,Rc1,Qa6,Qc2,Rb8,f5,Bf8,e4,exf5,exf5,Re8,Qc6,Qxc6,Rxc6,Re2,Rc7,g6,g4,Re4,fxg6,Rxg4+,Kf2,hxg6,Rd7,g5,Rxd5,Kf7,h3,Rf4,Ke3,Be7,Rd7,Ke6,Rb7,g4,hxg4,Rxg4,d5+,Kf7', 'd6,Ke6,dxe7', 'https://lichess.org/training/N1i01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n1IfW', 'Blitz', 'jc_valeron', 1919, 'DrAbdullah690', 1900, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Nc6,Be3,Be7,Qd2,O-O,O-O-O,Be6,Kb1,a5,Nd4,Nxd4,cxd4,a4,d5,Bd7,Bd3,c5,c4,a3,b3,Bf6,Rdg1,b5,g4,bxc4,Bxc4,Qe7,g5,Qe5,gxf6', 'Bf5+,Bd3,Bxd3+,Qxd3,Qb2#', 'https://lichess.org/training/n1IfW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N1kRm', 'Blitz', 'wpz31551', 2050, 'Khoirul_mam', 2322, 'd4,d5,c4,Nf6,e3,e6,Nf3,Be7,Nc3,O-O,Bd3,b6,Bd2,Bb7,Qe2,Nbd7,cxd5,exd5,Bc2,c5,b3,Rc8,O-O,Ne4,Nxe4,dxe4,Ne1,f5,Rd1,cxd4,exd4,Nf6,Be3,Nd5,Rc1,Bd6,f3,Nxe3,Qxe3,f4,Qf2,e3,Qe2,Qh4,Nd3,Rce8,b4,Rf6,Bb3+,Kh8,a3,Rh6,h3,Qg3,Kh1,Ba6,Bc4,Bc8,Qe1,Qg5,Kh2,e2,Rg1,Qg3+,Qxg3,fxg3+,Kh1,Bxh3,gxh3', 'Rxh3+,Kg2,Rh2#', 'https://lichess.org/training/N1kRm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N1KWs', 'Blitz', 'Ruben2022', 1894, 'spblex', 1863, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,dxe4,Nxe4,Be7,Bxf6,Bxf6,Nf3,O-O,Nxf6+,Qxf6,Bd3,Nc6,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,Re1,Qg5,Qf3,Rb8,Re3,Bd7,Rae1,Bc6,Qh3,g6,Rg3,Qa5,Re7,Rbe8,Bxg6', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/N1KWs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N1mYF', 'Rapid', 'imas1000', 1790, 'HMD', 1621, 'e4,c5,Bc4,e6,a3,Nc6,d3,d5,exd5,exd5,Ba2,Nf6,h3,Be7,Nf3,O-O,O-O,Be6,Nc3,Qc8,Bf4,Bxh3,gxh3,Qxh3,Nh2,Nd4,Nxd5,Nxd5,Bxd5,Bh4,Bg2,Qe6,c3', 'Ne2+,Kh1,Nxf4', 'https://lichess.org/training/N1mYF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n1P0C', 'Classical', 'Esee', 1623, 'Okulus', 1734, 'e4,e6,Bc4,d5,Bd3,Nc6,a3,Nf6,Nf3,dxe4,Bb5,exf3,Qxf3,Bd7,Nc3,a6,Ba4,Na5,d3,b5,Bb3,Bc6,Qg3,Nh5,Qe5,Nf6,a4,Nxb3,cxb3,b4,Ne4,Nxe4,dxe4,Rc8,O-O,Qf6,Qa5,e5,Qxa6,Qe6,Bd2,Ra8,Qd3,Bd6,Rac1,Qd7,Rc4,Rb8,Rd1,O-O,Qg3,g6,Bxb4,Rfd8,Bxd6,cxd6,Rd3,Qb7,Qh4,d5,exd5,Bxd5,Rg4,Bxg2', 'Rxd8+,Rxd8,Qxd8+', 'https://lichess.org/training/n1P0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N1pn9', 'Rapid', 'AsxatB', 1840, 'lanhlunggirl', 1672, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,d3,h6,Be3,Bxe3,fxe3,Nf6,O-O,a6,a3,Bg4,h3,Bh5,Qe1,Bxf3,gxf3,Qd7,Qg3,Nh5,Qg4,Qxg4+,fxg4,Nf6,Nd5,Nxd5,Bxd5,O-O,Rf2,Rab8,Raf1,Nd8,h4,c6,Ba2,b5,g5,Rb7,gxh6,gxh6,Rg2+,Kh7,h5,Rg8,Rxg8,Kxg8,c3,Kg7,Kf2,c5,Bd5,Re7,Kg3,Nb7,Kg4,Na5,d4,c4,dxe5,dxe5,Rg1,Kf6,Rf1+,Kg7,Kf5,Nb3,Rg1+,Kh7,Kf6,Rd7,Rg7+,Kh8,Rxf7,Rd6+,Ke7,Rb6,Rf8+,Kg7,Rg8+,Kh7,Kf8', 'Rb8+,Ke7,Rxg8,Bxg8+,Kxg8', 'https://lichess.org/training/N1pn9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N1uHv', 'Rapid', 'vvgraju', 1852, 'RickyChung', 1875, 'e4,c5,Nf3,Nc6,Bc4,g6,O-O,Bg7,c3,e6,d4,Na5,Be2,Nc6,dxc5,Qe7,Be3,Nf6,e5,Ng4,Bd4,Ngxe5,Nxe5,Nxe5,Re1,O-O,Nd2,d5,Nf3,Qc7,Bf1,b6,Nxe5,bxc5,Bxc5,Qxc5,Nf3,Rb8,Rb1,Qc6,a3,Ba6,Bxa6,Qxa6,h3,Rb6,Qc2,Rfb8,Ne5,Qb7,Nd3,Kf8,Nb4,a5,Nd3,Ke7,Qd2,Kd6,Qf4+,Ke7,Qg5+,Ke8,Nf4,Qe7', 'Qxe7+,Kxe7,Nxd5+,Kf8,Nxb6', 'https://lichess.org/training/N1uHv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n1W5U', 'Rapid', 'laura1', 1736, 'rs16', 1786, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Bxc6,bxc6,Nf3,cxd4,cxd4,c5,Be3,Qb6,b3,cxd4,Bxd4,Bc5,O-O,Ne7,Bxc5,Qxc5,Nbd2,O-O,Rc1,Qb6,Ne1,Nf5,Ndf3,Rac8,Rxc8,Rxc8,g4,Ne7,Nd4,Ng6,f4,Ne7,Nf3,Nc6,Rf2,Nxd4,Nxd4,Qb4,f5,Qc3,fxe6,fxe6,Rf3,Qb2,Rf2', 'Rc1,Rxb2,Rxd1+,Kf2,Rxd4', 'https://lichess.org/training/n1W5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n1XO3', 'Classical', 'Bashifisti', 1612, 'hanchengchao', 1629, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,g6,Ng5,d5,exd5,Qd6,O-O,Bg7,Re1,O-O,Nce4,Nxe4,Rxe4,Bf5,Re3,Bh6,h4,f6,Nxh7,Bxe3,Nxf8,Kxf8,dxe3,Nd7,Qe2,e4,g4,Nb6,b3,Bd7,Bb2,Kf7,f3,Qg3+,Qg2,Qxf3,Qxf3,exf3,g5,fxg5,hxg5,Nxc4,bxc4,Re8,Kf2,Bg4,Bf6,b6,Re1,Re4,c5,bxc5,Rd1,Rc4,Rd2,a5,a3,a4,Bb2,Ke7,Bf6+,Kd6,Bg7,Re4,Bf8+,Kd7,d6,Kc6,Kg3,c4,Rd4,Rxe3,Kxg4,f2,Rf4', 'Re4,Rxe4,f1=Q', 'https://lichess.org/training/n1XO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N1yhD', 'Blitz', 'EpicEffects', 2367, 'FM meridaandres', 2347, 'e4,Nf6,Nc3,d6,d4,g6,f4,Bg7,Nf3,O-O,e5,dxe5,fxe5,Nd5,h4,h5,Bc4,c6,Bg5,Bg4,Qd2,b5,Bxd5,cxd5,Bh6,b4,Ne2,Nc6,O-O-O,Rc8,Kb1,Na5,Bxg7,Kxg7,Qg5,Nc4,Nf4,Qa5,e6,Bf5,Nxh5+,Kh7,Rc1,Na3+,Ka1,Nxc2+,Rxc2,Rxc2,Qxe7,Rxb2,Nf6+,Kg7,Kxb2', 'Qa3+,Ka1,Qc3#', 'https://lichess.org/training/N1yhD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n1zhZ', 'Blitz', 'FM DailyInsanity', 2548, 'chess-only-chess', 2446, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,a6,O-O,Nge7,Bg5,h6,Be3,b5,Bb3,Ng6,Nd5,Bb7', 'Bb6,exd5,Bxd8', 'https://lichess.org/training/n1zhZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n21wq', 'Rapid', 'fenntun', 1635, 'vargaferencz', 1664, 'e4,e5,Nf3,d6,Bc4,h6,h3,Nf6,O-O,Nc6,b3,Nxe4,Re1,Nf6,d4,e4,Nfd2,d5,Bb5,a6,Bxc6+,bxc6,f3,Bd6,fxe4,dxe4,Nxe4,O-O,c4,Nxe4,Rxe4,Qf6,Qd3,Bf5,Nc3,Bxe4,Nxe4,Qf5,c5,Be7,Bb2,Rfd8,Rf1,Qg6,Nf2,Qxd3,Nxd3,Bf6,Rf4,Rd5,Rg4,a5,Ne5,Bxe5,dxe5,Rxc5,e6,f6,Bxf6,g5,Rd4,Rf5,e7,Kf7', 'Rd8,Rxd8,exd8=Q', 'https://lichess.org/training/n21wq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N224B', 'Rapid', 'Applesauce136', 1812, 'hsiavash', 1765, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Bg5,e5,Nxc6,bxc6,f4,Be7,Bc4,O-O,Qf3,exf4,Bxf4,d5,exd5,cxd5,O-O-O,d4,Rhe1,Bg4,Qg3,Bxd1,Rxd1,Qb6,Nd5,Nxd5,Bxd5,Rad8,Bh6,Bf6,Bf4,Rxd5,Bc7,Qb7,Rf1,Bg5+,Kb1,Rc8,Be5,d3,cxd3,Qe7,Bc3,Rb5,Ka1,Qe2,Rb1,h6,h4,Rxc3,bxc3,Bf6,Rxb5', 'Bxc3+,Kb1,Qd1#', 'https://lichess.org/training/N224B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N24Ov', 'Rapid', 'TheSmurf52', 1892, 'emelits', 1866, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd3,g6,Nc3,Bg7,Be2,d6,Nf3,Nf6,h3,O-O,O-O,a6,Nd5,Ne5,Nxe5,dxe5,Bg5,Nxd5,Qxd5,e6', 'Qxd8,Rxd8,Bxd8', 'https://lichess.org/training/N24Ov');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n24sa', 'Blitz', 'Tulok58', 2325, 'rightnow', 2110, 'e4,c5,Nf3,d6,d4,Nf6,Nc3,cxd4,Nxd4,a6,Bg5,e6,f4,Qb6,Qd2,Qxb2,Rb1,Qa3,Bxf6,gxf6,Be2,Bg7,O-O,O-O,f5,Qc5,Kh1,Nc6,Nxc6,Qxc6,Rb3,Kh8,Nd5,exd5,exd5,Qe8,Re3,Qd8,Rh3,Rg8,Rff3,Qf8,Rh5,Bd7,Rfh3,h6,Qf4,Re8,Qd2,Re5,Bd3,Rxd5,Qf4,Kh7,Rg3,Qe8', 'Rxg7+,Rxg7,Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/n24sa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N27Yz', 'Rapid', 'Ehoque', 1747, 'DF415YP', 1735, 'e4,b6,d4,Bb7,Nc3,e6,Bf4,Nf6,f3,d6,Be2,Be7,Qd2,Qd7,O-O-O,a5,d5,e5,Be3,a4,Bb5,c6,dxc6,Bxc6,Bxc6,Nxc6,Bxb6,O-O,g4,Nd4,Bxd4,exd4,Qxd4,a3,b3,Rfc8,Na4,Qc6,Rd2,Nd7,h4,Bf6,Qxd6,Qb5,Qxd7,Qf1+,Rd1,Qg2,Ne2,Qxe2,Rd2,Qxf3,Nb6,Qxh1+,Rd1,Qxd1+,Qxd1,Rd8,Nxa8', 'Bb2+,Kb1,Rxd1#', 'https://lichess.org/training/N27Yz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N29M5', 'Rapid', 'ALMAS_GN', 1687, 'ORubinstein', 1744, 'Nf3,Nf6,c4,e6,b3,d5,e3,Nbd7,Bb2,Be7,d4,c5,Ne5,Ne4,Qf3,Nxe5,dxe5,Qa5+,Ke2,f5,exf6,Bxf6,Bxf6,gxf6,Qh5+,Ke7,cxd5,e5,Kf3,Ng5+,Kg3,Qc7,Nc3,e4+,Kh4,Qe5,f4,exf3,gxf3,Qxc3,Bg2,Qxe3,Rhe1,Qxe1+,Rxe1+,Kd6,f4,h6,fxg5', 'hxg5+,Kg3,Rxh5', 'https://lichess.org/training/N29M5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n2BPi', 'Rapid', 'Purahan', 1649, 'kupz_nayrb03', 1825, 'd4,d5,Nf3,Nf6,Bf4,h6,e3,e6,Bd3,Bd6,Ne5,Bd7,Nd2,Nc6,O-O,Nb4,Be2,Ne4,Bh5,O-O,Nxe4,dxe4,Qg4,Bxe5,dxe5,Kh7,Bxh6,gxh6', 'Qxe4+,Kg7,Qxb4', 'https://lichess.org/training/n2BPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n2esZ', 'Rapid', 'amoh1', 1802, 'double_squeeze', 2125, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Nc6,Nc3,Bg4,Be2,e6,Ne5,Bxe2,Nxe2,Bd6,Bf4,O-O,O-O,Qc7,Nxc6,bxc6,Qd2,Ne4,Qe3,Rab8,f3,Nf6,b3,Rfe8,c4,dxc4,bxc4,Rb2,Bxd6,Qxd6,c5,Qb8,Nc3,Nd5,Qd3,Qb4,Nxd5,exd5,Rab1,Ree2', 'Qxe2,Rxe2,Rxb4', 'https://lichess.org/training/n2esZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N2IJX', 'Rapid', 'kyriakos43', 1675, 'Danil_Edalov', 1662, 'c4,e5,Nc3,Nf6,d3,Bb4,Bd2,Nc6,g3,d6,Bg2,Be6,Qa4,Bxc3,Bxc3,Bd7,Qb5,Nd4,Qxb7,Rb8,Qxa7,Nc2+,Kd2,Nxa1,e3,Ng4,Ne2,Nxf2,Rxa1,O-O,h3,c6,Rf1,Ra8,Qb7,d5,Rxf2,dxc4,Bxc6', 'Bxc6,Qxc6,Qxd3+', 'https://lichess.org/training/N2IJX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n2iy8', 'Rapid', 'Artnauta', 1923, 'Loveyeah', 1904, 'd4,Nf6,Bf4,d5,Nf3,Bf5,e3,e6,Bd3,Bg6,Bxg6,hxg6,Nbd2,c5,c3,Nc6,Qb3,b6,Ne5,Nxe5,dxe5,Nd7,O-O-O,g5,Bg3,c4,Nxc4,dxc4,Qxc4,Rc8,Qa4,Qc7,Rd2,Be7,Rhd1,Rd8,f4,Bc5,Rd3,Ke7,b4,b5,Qxb5,Bb6,a4,a6,Qxa6,Nb8,Qb5,Rxd3,Rxd3,Rd8,a5,Ba7,Kd2,Nc6,Rxd8,Qxd8+,Qd3,Qc7,fxg5,Qb7,Qd6+,Ke8,Bf4,Ne7,g4,Qg2+,Kd3,Qf1+,Kc2,Nd5,Qc6+,Ke7,Qb7+,Kd8,Qa8+,Ke7,Qxa7+,Ke8,Qd4,Qe2+,Qd2,Qc4,h4,Qa2+,Kd1,Qb1+,Qc1,Qd3+,Qd2', 'Nxc3+,Ke1,Qb1+,Kf2,Ne4+,Ke2,Nxd2', 'https://lichess.org/training/n2iy8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N2kpY', 'Blitz', 'WFM TheBest2001', 2314, 'LM Killerkaz', 2340, 'd4,c5,d5,Nf6,c4,e6,Nc3,exd5,cxd5,d6,Nf3,a6,g3,b5,Bg2,Bb7,Nh4,g6,O-O,Bg7,e4,O-O,a4,b4,Nb1,Nbd7,h3,Re8,Nd2,a5,Re1,Qc7,Qc2,Ba6,Rb1,Ne5,Bf1,g5,Nf5,b3,Qxb3,Rab8,Qc2,Bxf1,Kxf1,h6,Nxg7,Kxg7,Nc4,Nxc4,Qxc4,Rb4,Qc3,Rbxe4,Be3,Kg6,Qc2,Kg7,Bd2,Qe7,Bc3,Rxe1+', 'Rxe1,Qxe1+,Bxe1', 'https://lichess.org/training/N2kpY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N2pZb', 'Classical', 'FadiFtenah', 1781, 'Mychecksdead', 1770, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Nf6,Bd3,g6,Bg5,Be7,O-O,Nh5,Bh6,Bg5,Bxg5,Qxg5,Nd5,Kd8,Qf3,Bg4,Qxf7,Bd7,Nb6,Be8,Qxb7,Rb8,Qxa6,Nf4,g3,Nd4,f3,Nh3+,Kg2,Nf4+,Kh1,Nh5,Rf2,Nxg3+,hxg3,Qxg3,Raf1,h5,Bb5,Bxb5,Nxb5,Qh3+,Rh2', 'Qxf1#', 'https://lichess.org/training/N2pZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N2rmf', 'Blitz', 'snakeman17', 1751, 'cattapreta', 1794, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a3,e5,Nf3,b5,Bd3,Bb7,O-O,g6,Bg5,Bg7,Nd5,Bxd5,exd5,O-O,c4,Qb6,Be3,Qc7,Be2,bxc4,Rc1,Nxd5,Qxd5,Nd7,Rxc4,Qd8,Rd1,Nf6,Qxd6,Qxd6,Rxd6,Rfe8,Rc7,Ne4,Rdd7,Rf8,Nd2,Nxd2,Bxd2,Rac8,Ra7,Rc2,Bf3,Rxb2,Bb4,Rc8,h3,Rc1+,Kh2,Rxf2,Rxf7,Bh6,h4,Bf4+,Kh3', 'Rh1+,Kg4,h5#', 'https://lichess.org/training/N2rmf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N2sGT', 'Rapid', 'artist5000', 1769, 'Sertorio', 1754, 'e4,c5,Bc4,Nc6,Nc3,d6,Nf3,Nf6,d3,g6,h3,Bg7,a3,a6,Nd5,Nxd5,Bxd5,e6,Ba2,O-O,h4,h5,Ng5,Nd4,g4,d5,gxh5,dxe4,c3,Nf5,hxg6,fxg6,h5,exd3,Nxe6,Bxe6,Bxe6+,Rf7,hxg6,Qe7,gxf7+,Kf8,Qg4,Qxe6+,Kf1', 'Ne3+,Bxe3,Qxg4', 'https://lichess.org/training/N2sGT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N2u1y', 'Rapid', 'Naorlima', 1680, 'dododo33', 1734, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,d4,Bd7,Bxc6,bxc6,dxe5,dxe5,Nxe5,Bb4,Qd3,Qe7,Nc4,Qxe4+,Qxe4+,Nxe4,O-O,Nxc3,bxc3,Bxc3,Rb1,O-O-O,Be3,Be6,Rb3,Bxc4,Rxc3,Bxa2,Rxc6,Kb7,Rc5,Rd6,c3,a6,Bd4,f6,Ra5,Bc4,Rb1+,Kc6', 'Rc5+,Kd7,Rxc4', 'https://lichess.org/training/N2u1y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n2va6', 'Blitz', 'pumarosv', 1812, 'Dribox', 1834, 'e4,c5,Nc3,Nc6,Bc4,Nf6,f4,g6,Nf3,Bg7,O-O,O-O,Qe1,d6,a3,a6,d3,Bd7,Kh1,b5,Ba2,Nd4,Nxd4,cxd4,Ne2,e5,f5,Qc8,Qh4,Nh5,fxg6,hxg6,Qg5,Be6,g4,Bxg4,Qxg6,Bxe2,Rxf7,Rxf7,Bxf7+,Kh8,Bh6,Qg4', 'Bxg7+,Nxg7,Qh6#', 'https://lichess.org/training/n2va6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n2VPi', 'Rapid', 'gadoer', 1732, 'DJe257', 2274, 'e4,f5,e5,d5,d4,c5,c3,Nc6,f4,e6,Nf3,Nh6,Bb5,Nf7,Bxc6+,bxc6,Na3,cxd4,cxd4,c5,Nc2,Bd7,O-O,Be7,Ng5,Nxg5,fxg5,cxd4,Nxd4,Bxg5', 'Qh5+,g6,Qxg5,Qxg5,Bxg5', 'https://lichess.org/training/n2VPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N2w9z', 'Classical', 'Kimi2007', 1873, 'sharlov', 1853, 'e4,c6,d4,d5,e5,Bf5,f4,h5,Bd3,Bxd3,Qxd3,e6,Nf3,c5,Be3,Qb6,b3,c4,bxc4,Qb2,Qc3', 'Bb4,Qxb4,Qxb4+', 'https://lichess.org/training/N2w9z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n2xbV', 'Classical', 'atash042', 1819, 'Andrey-03', 1772, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bb5+,c6,Ba4,Bf5,Nf3,e6,O-O,Nf6,Re1,Bb4,Bb3,O-O,Re5,Qc7,a3,Bd6,Re1,Bg4,h3,Bh5,Ne4,Nxe4,Rxe4,Nd7,Re3,Nf6,Qe2,Rad8,Rd3,Nd5,Bxd5,cxd5,Qe3,b6,Rc3,Qe7,g4,Bg6,Ne5,Qf6,Nxg6,fxg6,Qe2,Bc5,Kg2,Bxf2,Rf3,Qxf3+,Qxf3,Rxf3,Kxf3,Rf8+,Kg2,Bc5,b4,Bd4,c3,Bf6,d4,g5,Be3,Rc8,Bd2,g6,Rf1,Kg7,Re1,Rc6,b5,Rd6,a4,h6,Bc1,Kf7,Ba3,Rd7,Rf1,Rc7', 'Bd6,Rxc3,Be5', 'https://lichess.org/training/n2xbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n2YWp', 'Rapid', 'ProfessorBooty', 1647, 'Mikatamminen', 1619, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,b4,Nbd7,c5,dxc5,bxc5,c6,Be2,Qa5,Bd2,Re8,Nd5,Qd8,Nb4,a5,Nc2,e5,O-O,exd4,Nfxd4,Nxe4,Bf4,Nc3,Qd2,Bxd4,Nxd4,Nxe2+,Nxe2,Nxc5,Qc3,Rxe2,Bh6,Ne6,Rfe1,Qd2,Qxd2,Rxd2,Bxd2,b5,Rac1,Bb7,Bh6,Rd8,Re5,Rd2,Kf1,Rxa2,Rd1,Bc8,Rxe6,fxe6,Rd8+,Kf7,Rxc8,Ra1+,Ke2,Ra2+,Kf3,Rc2,Rc7+,Kg8,Rg7+,Kh8,Ra7,a4,Bg7+,Kg8,Be5,Rc4,Rg7+,Kf8,Rxh7,a3,Rh8+,Ke7,Ra8,Ra4,Rb8,a2,Rb7+,Kd8,Bf6+,Kc8,Rg7,a1=Q,Rxg6,Qa3+,Ke2,Rb4,Rg3,Qa2+,Kf3,Rb3+,Kg4,Qa4+,Kh3,Rxg3+,hxg3,Qc4,g4,Qd5,g5,Qf5+,Kh4,b4,Kh5,Qh7+,Kg4,b3,g6,b2', 'gxh7,b1=Q,h8=Q+', 'https://lichess.org/training/n2YWp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N2Yzp', 'Rapid', 'Othonyel', 1892, 'be0wulf', 1896, 'c4,c5,g3,d6,Bg2,e6,Nc3,Nf6,Nf3,Be7,O-O,Nc6,d3,O-O,Rb1,b6,a3,Bb7,b4,cxb4,axb4,d5,cxd5,Nxd5,Nxd5,Qxd5,Bd2,Qd7,Qa4,Bf6,Rfc1,Rfd8,Bf4,Nd4,Nxd4,Bxg2,Qxd7,Rxd7,Kxg2,Bxd4,b5,h6,Rc6,a6,bxa6,Rxa6,e3,Bf6,d4,g5,Bc7,Ra7,Bxb6,Rab7,Rb4,Be7,Bc5', 'Rxb4,Bxb4,Bxb4', 'https://lichess.org/training/N2Yzp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N2zu6', 'Blitz', 'Entuzijasta', 2140, 'k51', 2081, 'd4,Nf6,Bf4,b6,e3,Bb7,f3,e6,Bd3,Nh5,Be5,d6,Bg3,Qg5,Bf2,Qxg2,f4,g6,e4,Qxh1,d5,Nxf4,Nd2,Nd7,dxe6,fxe6,Qg4,Nxd3+,cxd3,O-O-O,Qh3,Bg7,O-O-O,Nc5,Bxc5,dxc5,Ngf3,Qxd1+,Kxd1,Bxb2,Kc2,Bg7,Qxe6+,Kb8,Ng5,Rhe8,Qf7,Bh6,Ne6,Rc8,Nc4,Ba6,Nb2,Be3', 'Nxc7,Rxc7,Qxe8+', 'https://lichess.org/training/N2zu6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n32Zd', 'Rapid', 'AzerElesgerov-1', 1791, 'mefistofel82', 1778, 'e4,c6,Nc3,d5,Nf3,Bg4,Be2,a6,h3,Bxf3,Bxf3,e6,d4,Nf6,O-O,Be7,Re1,O-O,e5,Nfd7,Bh5,Nb6,f4,Nc4,b3,Nb6,Re3,N8d7,Rg3,g6,Be2,c5,Bd3,cxd4,Ne2,Nc5,f5,exf5,Bxf5,Ne4,Bxe4,dxe4,Qxd4,Qc7,Qxe4,Rad8,Bh6,Rfe8,Nf4,Bc5+,Kh1,Rd4,Nxg6,fxg6,Rxg6+,hxg6', 'Qxg6+,Kh8,Qxe8+', 'https://lichess.org/training/n32Zd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n334d', 'Classical', 'adumbname', 1909, 'Erkin_baizakov', 1787, 'g3,e5,Bg2,d5,b3,c6,Bb2,d4,e3,Nf6,Ne2,dxe3,fxe3,Bd6,O-O,O-O,d4,exd4,Bxd4,Ng4,Nf4,c5,Bb2,Nxe3,Qf3,Nxf1,Bxf1,Qb6,Nh5,c4+,Kh1,Bd7,Bxc4,Qc5,Nc3,Be6,Nxg7,Be5,Nxe6,fxe6,Bxe6+,Kh8,Qd3,Nc6,Ne4,Qe7,Bxe5+,Nxe5,Qd5,Qg7,Re1,Nf3,Rd1,Qh6,h3,Qg7,Bg4,Ne5,Qd4,Nxg4,Qxg7+,Kxg7,hxg4,Rae8,Rd7+,Rf7', 'Rxf7+,Kxf7,Nd6+,Kf8,Nxe8', 'https://lichess.org/training/n334d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n34M6', 'Blitz', 'NM JIL-BATCH4', 2350, 'EdwardSongco77', 2226, 'c4,e6,Nc3,Nf6,e3,Bb4,Nge2,Nc6,a3,Bxc3,Nxc3,d5,d4,O-O,b4,dxc4,Bxc4,e5,d5,Ne7,e4,Nd7,Be3,Kh8,f3,f5,O-O,f4,Bf2,Nf6,Rc1,a6,Be2,g5,Na4,Ng6,Qc2,Rf7,Nc5,h5,Rfd1,Ne8,Ne6,Qf6,Bc4,Nf8,Nxf8,Rxf8,Bb3,Bd7,Kh1,Rc8,Qc5,Nd6,Qa5,Qd8,Qc5,g4,Qc3,Qf6,Qe1,gxf3,gxf3,Rg8,Bh4,Qg6,Qf2,Bh3,Rg1,Qf7,Qb2,Rce8,Rxg8+,Kxg8,Rg1+,Kh7,Rg5,Bc8,Rxe5,Rxe5,Qxe5,Qg6,Bc2,Bh3,Qe7+,Kh6,Qf8+,Kh7,Qe7+,Nf7,Bg5,Qxg5', 'Qxf7+,Kh8,Qf8+', 'https://lichess.org/training/n34M6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N34Pp', 'Rapid', 'ulfthegaul', 1738, 'pedrosqui7', 1765, 'e4,c5,c3,e5,Nf3,d6,d4,cxd4,cxd4,Bg4,Be2,Bxf3,Bxf3,Be7,d5,Nf6,O-O,O-O,Nc3,a6,Qa4,Nbd7,Be3,b5,Qb3,Rb8,a3,Nb6,Be2,Qc8,Rac1,Ng4,Nxb5,Nxe3,Rxc8,Nxf1,Rxf8+,Bxf8,Kxf1,axb5,Bxb5,Nc8,a4,Ne7,Qc3,Rc8,Qb4,Rc5,f3,Ng6,Qd2,Nf4,g3,Ng6,b4,Rc7,Bc6,Ne7,b5,Nc8,Qa5,Ra7,Qb4,Be7,a5,Bd8,a6,Bb6,Bb7,Bc5,Qa4,Nb6,Qc2,g6,f4,f6,fxe5,fxe5,Qe2,Kg7,Qg4,Nc4,Qd7+,Kh6,Qc8,Nd2+,Ke2,Nxe4,Qc6,Nc3+,Kd3,Na2,b6', 'Nb4+,Ke4,Nxc6,bxa7,Nxa7', 'https://lichess.org/training/N34Pp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N34rf', 'Rapid', 'bpchassain', 1726, 'davoodpast', 1630, 'e4,e6,d4,Qh4,Bd3,b6,Nf3,Qe7,Nc3,h6,Be3,Bb7,Nb5,Qd8,c4,a6,Nc3,Bb4,O-O,Bxc3,bxc3,d6,d5,e5,Nd2,Nf6,f4,O-O,f5,c6,Rf3,cxd5,cxd5,Nbd7,Rg3,Nc5,Bc2,g5,fxg6,fxg6,Rxg6+,Kf7,Bxh6', 'Kxg6,Bxf8,Qxf8', 'https://lichess.org/training/N34rf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n34sb', 'Rapid', 'PsychoticMe231', 1772, 'ElTioDelSobrino', 1835, 'e4,c6,d4,d5,Nc3,dxe4,Bc4,e6,Bf4,e3,fxe3,Nf6,Nf3,Bb4,O-O,O-O,Ne5,Nbd7,Bg5,Qc7,Bd3,Nxe5,Bxf6,gxf6,dxe5,f5,g4,Qxe5,gxf5,Qxe3+,Kh1,Qh6,Qg4+,Kh8,Qxb4,c5,Qxc5,b6,Qc6,Rb8,fxe6', 'Bb7,Qxb7,Rxb7', 'https://lichess.org/training/n34sb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n3aAd', 'Rapid', 'gmvassil', 1724, 'PRIAPE', 1724, 'c4,c5,Nc3,g6,g3,Bg7,Bg2,Nc6,e3,b6,Nge2,Bb7,O-O,Rb8,b3,Nb4,d4,Bxg2,Kxg2,Qc8,a3,cxd4,exd4,Nc6,d5,Na5,Rb1,Nf6,d6,e6,Nb5,Qc6+,Kg1,Nb7,Nxa7,Qxd6,Nb5,Qxd1,Rxd1,O-O,Nd6,Nxd6,Rxd6,Rfd8,Be3,b5,c5,Kf8,Rbd1,Ke7,Bg5,h6,Bf4,Nd5,b4,Ra8,Rd3,Ra4,Bd2,Bf6,Nc3,Nxc3,Bxc3,Bg5,Rb6,Rxa3,Rxb5,Bf6', 'Bxf6+,Kxf6,Rxa3', 'https://lichess.org/training/n3aAd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3aCw', 'Classical', 'VenkyCan', 1638, 'Pappstefanos', 1638, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,Nc3,h6,Nf3,d6,h3,a6,a3,b5,Ba2,Nd4,Ne2,Nxf3+,gxf3,d5,Ng3,dxe4,fxe4,c6,Nf5,Bxf5,exf5,Qd7,Qf3,Rfe8,Rg1,Kh8,Bd2', 'e4,Qg2,exd3+', 'https://lichess.org/training/N3aCw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3BhI', 'Blitz', 'Kerium', 2122, 'stocastico', 1929, 'd4,e5,dxe5,Nc6,e3,Nxe5,Nh3,d5,Nf4,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nc6,Bb5,O-O,O-O,Be6,Qf3,a6,Bxf6,Qxf6,Bd3,Qxb2,Rab1,Qxa2,Rxb7,Ne5,Bxh7+,Kh8,Qh5,Bg4,Qxe5,Kxh7,Qg5,Bc8,Rxc7,d4,Qh5+,Kg8,Nd5,g6,Ne7+,Kg7,Qe5+,Kh6,exd4,Qe6,Qf4+,Kg7,Nc6,Bd7,Ne5,Rac8,Rxd7,Rxc2,h3,a5,Ng4,Qxd7', 'Qh6+,Kg8,Nf6#', 'https://lichess.org/training/N3BhI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3dEk', 'Rapid', 'MuhidinFocic', 1798, 'lander', 1813, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,a6,Nc3,b5,Bb3,Bc5,d3,h6,Nd5,O-O,h3,d6,Re1,Be6,Be3,Ba7,Qe2,Na5,a3,Nxb3,cxb3,Nxd5,exd5,Bxd5,Bxa7,Bxf3,Qxf3,Rxa7,Qe3,Ra8,Rac1,f5,Rc6,Qd7,Rec1,Rfc8,b4,Rab8,Qa7,Ra8,Qb7,f4', 'Rxc7,Rxc7,Rxc7,Qxc7,Qxc7', 'https://lichess.org/training/N3dEk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3E9c', 'Blitz', 'Chessfuzzi2000', 2286, 'sofesta', 2221, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be2,g6,Be3,Bg7,O-O,O-O,Qd2,Nxd4,Bxd4,Be6,Rfd1,Rc8,f3,a6,a4,Qc7,Bf1,Nd7,a5,Bc4,Bxg7,Kxg7,Bxc4,Qxc4,Ra4,Qc5+,Qd4+,Qxd4+,Rdxd4,Rc5,Rdb4,Rc7,Rc4,Rfc8,Rxc7,Rxc7,Rb4,Nc5,Nd5,Rd7,Nb6,Rc7,Nd5,Rd7,Rb6,e6,Ne3,Kf6,Nc4,Ke7,Kf2,Na4,Rb4,Nc5,Ke3,Rc7,Kd4,Kd7,Rb6,d5,exd5,exd5,Kxd5,Ne6,Ne5+,Ke7,b4,Nf4+,Ke4,Nxg2,c4,f6,Nd3', 'Rxc4+,Kd5,Ne3#', 'https://lichess.org/training/N3E9c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3ev1', 'Rapid', 'Master_Of_Minds', 1798, 'TROMEFA', 1683, 'e4,e5,Nf3,c6,Nxe5,Bd6,Nf3,Qe7,Nc3,Nf6,d3,O-O,Be2,Bc7,O-O,d5,exd5,cxd5,Bg5,Be6,d4,Nc6,Re1,Rac8,Bb5,a6,Nxd5,Qd8,Bxc6,Bxd5,Bxd5,Qxd5,Bxf6,gxf6,Qd2,Kh8,c3,Rg8,Re3,Rg7,Rae1,Rcg8,g3,h5,Re8,Qxf3', 'Qh6+,Rh7,Rxg8+,Kxg8,Re8#', 'https://lichess.org/training/N3ev1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3F9L', 'Rapid', 'GokulaKrishnanS', 1723, 'Jason_13', 1736, 'e4,e5,Nf3,Bd6,Bc4,Qf6,d3,Nh6,O-O,Nc6,Ng5,Qg6,Bxf7+,Nxf7,Nxf7,Kxf7,Qf3+,Qf6,Qxf6+,gxf6,Nc3,Ne7,Nd5,Nxd5,exd5,c6,dxc6,dxc6,h3,Bf5,Bd2,Rhg8,g3,Bxh3,Rfe1,Ke6,Kh2,Bf5,f4,h5,d4,e4,c4,Bc7,d5+,Kd6,Bb4+,c5,Bc3,Raf8,b4,b6,bxc5+,Kxc5,a3,Kxc4,Bb4,Rd8,Rac1+,Kxd5,Rxc7,Rc8', 'Rd1+,Ke6,Rd6#', 'https://lichess.org/training/N3F9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n3goK', 'Rapid', 'Cedur216', 1823, 'suhara', 1796, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nf3,h6,Bc4,Be6,Nd5,Nbd7,O-O,Bxd5,Bxd5,Qc7,c3,Be7,Qb3,Nxd5,Qxd5,Nf6,Qb3,O-O,Nd2,b5,f3,Rfe8,a4,Qc6,c4,Rab8,axb5,axb5,Qc3,Rec8,Rfc1,Nd7,cxb5,Qxb5,Qxc8+,Rxc8,Rxc8+,Kh7,Ra7,Bg5,Bxg5', 'Qb6+,Kf1,Qxa7', 'https://lichess.org/training/n3goK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3hrx', 'Rapid', 'shivay_saklani25', 1820, 'KartikHdhd', 1835, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,O-O,Ne2,c5,Be3,Nc6,O-O,cxd4,cxd4,e6,Rb1,Na5,Bb3,Nxb3,Rxb3,b6,Qd2,Bd7,f4,Qe7,Rc3,Rac8,Rfc1,Qb4', 'Rxc8,Qxd2,Rxf8+,Kxf8,Bxd2', 'https://lichess.org/training/N3hrx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n3J4U', 'Rapid', 'Drawingdead1', 1920, 'Robasi', 1899, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,c6,Bd3,Bg4,O-O,Ne7,h3,Bh5,Re1,Qc7,Bg5,h6,Be3,Nd7,a4,a5,Be2,O-O-O,Nh4,Bxe2,Qxe2,g5,Nf3,f5,Nxg5,hxg5,Bxg5,Nb6', 'Bxe7,Bxe7,Qxe7', 'https://lichess.org/training/n3J4U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n3jB7', 'Rapid', 'MarioLokofiev', 1976, 'svinoer', 2025, 'e4,e6,d4,d5,exd5,exd5,Nc3,Bb4,Bd2,Nf6,Nf3,O-O,Be2,Re8,O-O,Bg4,a3,Bd6,Re1,c6,Ne5,Bxe5,dxe5,Rxe5,Bg5,Bxe2,Rxe2,Nbd7,Qd4,Rxe2,Nxe2,c5,Qd2,Qe7,Nf4,Qd6,Re1,h6,Bxf6,Nxf6,Nd3,Ne4,Qa5,b6,Qa4,Qf6,f3,Nd6,Qc6,Rd8,Qxd5,Nf5,Qe4,Nd4,c3,Nb3,Kh1,Nd2,Qe2,Nb3,Qc2,c4,Nc1,Nc5,b4,cxb3,Nxb3,Ne6,Rd1,Rxd1+,Qxd1,Qxc3,a4,g6,h3,Nc5,Nxc5,Qxc5,Qd8+,Kg7,Qd7,a5,Kh2,Qe5+,Kh1,Qe6,Qb5,Qd6,Qb2+,f6,Kg1,g5,Kf2,Qc5+,Kg3,Qe5+,Qxe5,fxe5,Kg4,Kf6,Kh5,Kg7,Kg4,Kg6,Kg3,h5,Kf2,Kf6,Ke3,Kf5,g4+,hxg4,hxg4+,Ke6,Ke4,Kf6,Kd5,Ke7,Kc6,b5,axb5,a4,b6,a3,b7,a2,b8=Q,a1=Q,Qd6+,Kf7,Qd7+,Kg6,Qf5+,Kh6,Qf6+,Kh7,Qf7+,Kh6,Qh5+,Kg7,Qxg5+,Kf7,Qf5+,Kg7,Kd6,Qd4+,Ke6,Qc4+,Kxe5,Qc5+,Kf4,Qc1+,Ke4,Qc2+,Ke5,Qc5+,Kf4,Qc1+,Kg3,Qg1+,Kh4', 'Qh2+,Kg5,Qh6#', 'https://lichess.org/training/n3jB7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n3jPM', 'Classical', 'I-Messed-Up', 1862, 'ErGue', 1688, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,c3,d5,d4,exd4,exd5,Nxd5,Nxd4,Nxd4,Qxd4,c6,c4,Bf6,Qc5,Qb6,Be3,Re8,Qxb6,Nxb6,Nc3,Nd7,Rad1,Ne5,cxb5,cxb5,Bd4,Bg4,f3,Nxf3+,gxf3,Rxe1+,Rxe1,Bxd4+,Kg2,Bh5,Re2,Bxc3,bxc3,Rc8,Re3,Bg6,Kf2,Kf8,Ke2,Re8,Rxe8+,Kxe8,Ke3,Kd7,Kd4,Kc6,c4,bxc4,Bxc4,a5,a4,Bc2,Bxf7,Bxa4', 'Be8+,Kd6,Bxa4', 'https://lichess.org/training/n3jPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3Jq1', 'Classical', 'hodhod', 1641, 'ArtemBy', 1731, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,h6,O-O,Nf6,a3,a6,d3,O-O,Ba2,d6,Be3,Nd4,Nxd4', 'exd4,Bd2,dxc3', 'https://lichess.org/training/N3Jq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3LlM', 'Rapid', 'ChessAtNight', 1732, 'bhqhat', 1700, 'd4,d5,Nf3,e6,e3,Nf6,a3,Bd6,b3,O-O,Bb2,h6,Nbd2,b6,Bd3,Ba6,c4,Nfd7,Rc1,e5,Nxe5,Nxe5,dxe5,Be7,Nf3,c5,O-O,f6,exf6,Bxf6,Bxf6,Rxf6,Qc2,Bb7,Bh7+,Kh8,Rfd1,Rxf3,gxf3,Qg5+,Kf1,Qh4,Qf5,Qxh2,Bg6,Na6,cxd5,Nc7,Qd7,Qh1+,Ke2,Ba6+,Kd2,Qxf3,Qf7', 'Qe2+,Kc3,Nb5#', 'https://lichess.org/training/N3LlM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3Msv', 'Rapid', 'dios_arrasador', 2037, 'TJK125HQF', 1960, 'd4,d5,Nf3,Bg4,Bf4,Bxf3,exf3,e6,Bd3,f5,c4,c6,Nc3,Bd6,Be3,Nf6,c5,Bc7,f4,Nbd7,b4,a6,O-O,O-O,a4,Ne4,Qc2,Ndf6,f3,Nxc3,Qxc3,Nh5,g3,h6,Rae1,Qf6,Re2,Qg6,Kf2,Qf7,Bd2,Rfe8,Rfe1,g6,Qb2,b5,axb5,axb5,Ra1,Qf8', 'Rxa8,Rxa8,Rxe6,Kf7,Rxc6', 'https://lichess.org/training/N3Msv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3n0N', 'Blitz', 'christyx', 1648, 'biakordo', 1855, 'd4,d5,g3,Nf6,Bg2,Bf5,Nf3,e6,Bf4,c6,O-O,Nbd7,Nbd2,Be7,c4,h6,cxd5,exd5,Rc1,g5,Be3,Qc7,Nb3,Ne4,Nfd2,Nef6,Nf3,Qd6,Bd2,Qe6,Re1,Bh3,Bh1,Bf5,Bc3,O-O-O,Nbd2,Kb8,Qb3,Ne4,Nxe4,Bxe4,a4,h5,a5,h4,a6,b6,Ba5,hxg3,fxg3,Qh3,Bxb6,axb6,Kf2,g4,Bg2,Qh6,Ne5,Nxe5', 'Qxb6+,Kc8,Qb7#', 'https://lichess.org/training/N3n0N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n3pH1', 'Rapid', 'alohamilkyway17', 1732, 'cjones589', 1699, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Nd4,Bxf7+,Ke7,O-O,h6,c3,Nc6,d4,hxg5,dxe5,Kxf7,exf6,Qxf6,Qd5+,Qe6,Qxg5,Bd6,f4,b6,f5,Qf6,Qg4,Bxh2+,Kf2,Qh4+,Qxh4,Rxh4,g3,Rh8,Kg2,Ne5,Rh1,Ng4,Kf3,Ne5+,Kf4,d6,Nd2,Bb7,Nf3,Nxf3,Kxf3,Rh7,c4,Rah8,Bf4,g5,Bxg5,Bxe4+,Kxe4,Bxg3,Rxh7+,Rxh7,Rg1,Be5,b3,c5,f6,Bxf6', 'Rf1,Kg6,Bxf6', 'https://lichess.org/training/n3pH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3QIq', 'Rapid', 'WhiteKingVit', 1886, 'Omega76', 1830, 'e4,c6,d4,d5,exd5,cxd5,Bb5+,Bd7,Qe2,Qa5+,Nc3,Bxb5,Qxb5+,Qxb5,Nxb5,Na6,Bf4,Rc8,O-O-O,Nf6,Nxa7,Ra8,Nb5,e6,Nf3,Be7,Nd6+,Bxd6,Bxd6,Kd7,Be5,Rhc8,Ng5,Nb4,c3,Nc6,a3,Ng4,Bg3,Ke7,Nxh7,f6,h3,Nh6,Bh4,Rh8,Ng5,fxg5,Bxg5+,Kf7,g4,Rac8,Be3,Ng8,f4,Nf6,Rdf1,Ne4,Rh2,b5,f5,exf5,Rxf5+,Ke6,h4,Rcf8,Rxf8,Rxf8,Kc2,g6,h5,gxh5,gxh5,Kf6,Rg2,Rf7', 'Rg6+,Kf5,Rxc6', 'https://lichess.org/training/N3QIq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3R3Z', 'Blitz', 'Player711', 2414, 'CM FdoVzla1986', 2436, 'd4,f5,g3,Nf6,Bg2,g6,Nf3,Bg7,O-O,O-O,c4,d6,Nc3,Nc6,d5,Ne5,Nxe5,dxe5,Qb3,Kh8,Bd2,Rb8,Rad1,a6,e4,f4,gxf4,exf4,Bxf4,Nxe4,Bg3,Nxg3,hxg3,Bg4,Rde1,Qd7,Qb4,Rf7,Ne4,h6,Qc5,Rbf8,Qa7,b6,c5,Bd4,cxb6,Bxb6,Qxa6,Bh3,Qd3,Qg4,a4,Bxg2,Kxg2,Rf3,Qe2,h5,Rh1,Kg8,b4,Bxf2,Nxf2,Qxg3+,Kf1,Rxf2+,Qxf2', 'Qxf2#', 'https://lichess.org/training/N3R3Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n3URN', 'Rapid', 'Kijevatov', 1766, 'daniei', 1886, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Be2,Nc6,c3,h6,h3,Bh5,Ne5,Nxe5,Bxh5,Nc6,O-O,Nf6,Re1+,Be7,Nd2,O-O,Nb3,Ne4,Bf3,Nf6,Qc2,Re8,Bf4,Bd6,Bxd6,Qxd6,Re2,Rxe2,Qxe2,Re8,Qd3,b6,Qf5,Qe6,Qxe6,Rxe6,Kf1,Ne4,Bxe4,Rxe4,Re1,Rxe1+,Kxe1,Kh7,Nc1,Kg6,Kd2,Kf5,Ke3,Na5,b3,c5,dxc5,bxc5,Nd3,c4,Nc5,cxb3,axb3,Ke5,Nd3+,Kd6,Nc1,Kc5,b4+,Kc4,bxa5,Kxc3,Ne2+,Kc4,Nd4,a6,Nf5,Kb5,Kd4,Kxa5,Kxd5,Kb4,Nxg7,a5,Nf5,a4,Ne3,Kb3,Nc4,Kc3,g4,Kd3,h4,Ke2,f4,Kf3,g5,hxg5,h5,g4,h6,g3,h7,g2,h8=Q,g1=Q,Qc3+,Kxf4,Qe5+,Kf3,Nd2+,Kf2,Qd4+,Kg2,Qg4+,Kf2,Ne4+,Kf1,Qd1+,Kg2,Qe2+,Kh3,Qh5+,Kg2,Qg5+,Kf1,Qf4+,Ke2,Qd2+,Kf3,Ng5+,Kg4,Nxf7,Qh1+,Kd4,Qg1+,Qe3', 'Qxe3+,Kxe3,a3', 'https://lichess.org/training/n3URN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3VcD', 'Blitz', 'O__x', 1545, 'Dozdevik', 1907, 'd4,d5,Nc3,c6,Nf3,Bg4,e3,e6,Be2,Bd6,Qd3,Nf6,e4,dxe4,Nxe4,Qc7,Nxf6+,gxf6,Be3,Bf4,O-O-O,Bxe3+,fxe3,Nd7,Ng1,Bxe2,Nxe2,O-O-O,Nc3,Kb8,Rhf1,f5,Qc4,Rhg8,g3,Nb6,Qb3,Nd5,Nxd5,cxd5,Rd3,Rc8,Rc3,Qd7,Rxc8+,Rxc8,c3,Rc6,Qa3,Ra6,Qf8+,Kc7,Qc5+,Rc6,Qf8,a5,Qg7,h5,h3,a4,g4,hxg4,hxg4,a3,gxf5,axb2+,Kxb2,Rb6+,Kc2,Qa4+,Kd3,Qc4+,Kd2,Qxf1,Qxf7+,Kc6,Qxe6+,Kb5,Qe8+,Kc4', 'Qa4+,Rb4,Qxb4#', 'https://lichess.org/training/N3VcD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N3zK5', 'Rapid', 'twinbee', 1690, 'dharm', 1623, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nf3,Bg4,Be2,Be7,h3,Bh5,O-O,Nc6,Nd2,Bxe2,Qxe2,h6,f4,O-O,Rad1,Qc7,Qc4,Rac8,Nd5,Nxd5,exd5,Na5,Qb4,b5,c4,bxc4,Bb6,Nc6,dxc6,Qxc6,Be3,Rfe8,Rc1,d5,Qb6,Qa4,fxe5,Rc6,b3,Rxb6,bxa4,Rb2,Rfd1,Rxa2,Ra1,Rb2,Bd4,Rb7,a5,Rb5,Rdb1,Bb4,Nf3,Reb8,Bb6,Bc3,Rxb5,axb5,Rb1,b4,Nd4,b3,a6,Ra8,a7,Bb4,Nb5,c3,Rxb3', 'c2,Rxb4,c1=Q+', 'https://lichess.org/training/N3zK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n40nE', 'Rapid', 'Younisa99', 1883, 'Memov1c', 1878, 'e4,e5,Nf3,d6,d4,Be7,dxe5,dxe5,Qxd8+,Bxd8,Nxe5,Nc6,Nxc6,bxc6,Bc4,Nf6,Nc3,Be6,Bxe6,fxe6,Bg5,O-O,O-O-O,Rb8,f3,h6,Bh4,g5,Bg3,Kg7,Be5,Kg6,h4,a5,hxg5,hxg5,Rh2,Rf7,Rdh1,Rh7,Bxf6,Rxh2,Rxh2,Bxf6,Kd2,Rxb2,Rh1,Bxc3+,Kxc3,Rxa2', 'Kb3,Rxc2,Kxc2', 'https://lichess.org/training/n40nE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N43oP', 'Blitz', 'shameer_india', 1906, 'Xigalo-chess1987', 1943, 'e4,Nc6,d4,e5,d5,Nb8,f4,exf4,Nf3,d6,Bxf4,Nf6,Bd3,Be7,O-O,O-O,Nbd2,Nbd7,c4,Nb6,b3,Bg4,Qc2,Nh5,Be3,Bf6,e5,Bxe5,Bxh7+,Kh8,Nxe5,dxe5,Ne4,g6,Nf6,Nxf6,Bg5,Kxh7,Bxf6,Qd7,Qe4,c6,h3,Bh5,Qh4,cxd5,g4,Qc7,gxh5,Qc5+,Kh2,g5,Qxg5,Rg8,Qf5+,Kh6,Rg1,Rxg1,Rb1,Rxb1', 'Qg5+,Kh7,Qg7#', 'https://lichess.org/training/N43oP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n44gT', 'Blitz', 'valery333', 1752, 'LM PeshkaCh', 2127, 'd4,c5,c4,d5,e3,e6,Nf3,cxd4,exd4,dxc4,Bxc4,Nc6,Nc3,Nf6,O-O,Bd6,h3,O-O,Be3,Re8,Rc1,Ne7,Bd3,h6,Bb1,Bd7,Qd3,Nf5,g4,Nxe3,fxe3,Bc6,g5,hxg5,Nxg5,e5,Rxf6,Qxf6,Qh7+,Kf8,Qh4,exd4', 'Nh7+,Ke7,Nxf6', 'https://lichess.org/training/n44gT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n44UW', 'Rapid', 'JAIMEACV', 1756, 'papadesarah', 1632, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,e6,O-O,Bd6,d4,c6,Re1,Nf6,Bg5,h6,Bh4,g5,Bg3,Bxg3,fxg3,Nd5,Qd3,Qd6,Ne5,Bxe2,Qxe2,Nxc3,bxc3,Nd7,Nc4,Qd5,Rab1,b5,Na5,Nb6,Qe5,Qxe5,dxe5,Rc8,Nb7,Nc4,Rbd1,O-O,h3,Nb6,Nc5,Nd5,Rd3,Rcd8,Ne4,Ne7,Rf3,Nf5,g4,Nh4,Rf6,Rd5,g3,Ng6,Rff1,Rxe5,Nf6+,Kh8,Rxe5,Nxe5,Re1,Nc4,Rd1,Kg7,Ne4,f5,gxf5,Rxf5,Nc5,Rf3,Nxe6+,Kf6,Nd4,Rxc3,Rf1+,Kg6,g4,Ne3,Rf2,Nd5,Nf5,Nb4,Nd6,Nxc2,Rf8,Kg7,Ra8,Rxh3,Rxa7+,Kf8,Rc7,Rg3+,Kf2,Rxg4,Rxc6,Nd4,Rc8+,Ke7,Nb7,Kd7,Rh8,Rf4+,Ke3,Nf5+,Kd3,Rf2,Nc5+,Kd6,Ne4+,Ke5,Nxf2,Kf4,Kc3,g4,Nd3+,Kf3,Rf8,Ke4,Nc5+,Kf4,Ne6+,Ke4,Kb4,g3,Kxb5,Kf3,Rxf5+,Kg4,Rf4+,Kh3,Nd4,g2,Nf3,Kg3,Rf7,h5,Rf5,h4,Rh5', 'Kxf3,Rxh4,g1=Q', 'https://lichess.org/training/n44UW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N44Va', 'Rapid', 'Kuda_Gaibs', 1993, 'OnFullTilt', 1958, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,e5,Nf5,d5,Nxd5,Bxf5,exf5,Bb4+,c3,Bc5,Bc4,b5,Bb3,Qh4,O-O,O-O-O,a4,Nge7,axb5,axb5,Nxe7+,Qxe7,Qe2,Qb7,Bxf7,Qxf7,Qxb5,Qd5,Ra6', 'Bxf2+,Kxf2,Qxb5', 'https://lichess.org/training/N44Va');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N48BA', 'Blitz', 'nichiren1967', 2014, 'russian3', 1886, 'e4,e5,f4,exf4,h4,Be7,Nf3,Nc6,d4,d6,Bxf4,Bg4,c3,Bxh4+,g3,Be7,Nbd2,Qd7,Qb3,f6,O-O-O,O-O-O,Ne1,Bxd1,Qxd1,Kb8,a3,g6,b4,Bf8,a4,f5,Bg2,fxe4,Bxe4,Re8,Bf3,Nge7,Nc4,Bg7,b5,Nd8,Qb3,Nf5,a5,Ne6,b6,Nxf4', 'bxa7+,Kxa7,Qxb7#', 'https://lichess.org/training/N48BA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n48Z3', 'Blitz', 'PauloMatoso01', 2055, 'NM Waqar-Madni', 2020, 'Nf3,Nf6,g3,b6,Bg2,Bb7,O-O,c5,d3,d5,Nbd2,g6,Re1,Bg7,e4,dxe4,dxe4,O-O,e5,Nd5,Nf1,Nc6,c3,e6,h4,Qc7,Qe2,a5,N1h2,Ba6,c4,Nde7,Bf4,Rad8,Ng4,Nf5,Nf6+,Kh8,b3,Bb7,h5,Ncd4,Nxd4,Nxd4,Qg4,Bxg2,Kxg2,Qc6+,f3,Bxf6,exf6,Rg8,Rh1,e5,Bxe5,Nxf3,hxg6,Nxe5+,Kf1,fxg6', 'Rxh7+,Kxh7,Qh3#', 'https://lichess.org/training/n48Z3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n49GA', 'Rapid', 'pawnbus21', 2069, 'mathaias', 2093, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,O-O,O-O,Re8,Bg5,Be7,Bc4,d6,Re1,Bd7,f4,Nxe4,Rxe4,Bxg5,Rxe8+,Bxe8,fxg5,Qxg5,Qf3', 'Qc5+,Qf2,Qxc4', 'https://lichess.org/training/n49GA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4cEg', 'Rapid', 'Daedalus2505', 1820, 'Dtricks', 1815, 'g4,b6,Bg2,Nc6,b4,d5,Bb2,Bxg4,c4,Nxb4,Qa4+,Nc6,Bxd5,Bd7,Bxc6,Rc8,Bxd7+,Qxd7,Qxd7+,Kxd7,Nf3,a5,Na3,c6,Rg1,Nf6,Ne5+,Ke8,Rb1,g6,Bc3,Rb8,Nxc6,Rc8,Nd4,e5,Nf3,Bxa3,Rxb6,Be7,Bxe5,Rg8,Bxf6,Bxf6,Rxf6,Rxc4,d3,Rc2,Rg5,Rxa2,Re5+,Kf8,Ng5,Ra1+,Kd2,Ra2+,Ke3,Rg7,Ne6+,Ke7,Nxg7+,Kxf6,d4,Kxg7,d5,Kf6,Re8,Ra3+,Kf4,Ra4+,e4,Rd4,f3,a4,Rh8,h5,Ra8,g5+,Ke3,Rb4,h4,g4,fxg4,hxg4,Kf4,g3,Kxg3,Rxe4,h5,Ke5,Ra5,Kd6,h6,Re8,h7,Rh8,Rxa4,Kxd5,Ra5+,Ke6,Rh5,Kf6,Kg4,Kg6,Rg5+,Kxh7,Rf5,Rg8+,Kh5,Kg7,Rg5+,Kf8,Rf5,Ke7,Kh6,Ke6,Rf1,f6,Kh7,Rf8,Kg7,Rf7+,Kg6,f5', 'Re1+,Kd5,Kxf7', 'https://lichess.org/training/N4cEg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4dfS', 'Classical', 'monestalab', 1957, 'Evgeny_Pustyryov', 1961, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bf5,Bd2,c6,Bc4,Qc7,O-O,e6,Re1,Be7,h3,Nbd7,Nh4,Bg6,Qf3,O-O-O,Bf4,Bd6,Bxd6,Qxd6,Bd3,Bxd3,Qxd3,Nd5,Ne4,Qc7,c3,h6,b4,g5,Nf3,f5,Nc5,Nxc5,bxc5,g4,hxg4,fxg4,Ne5,h5,Ng6,Rh6,Ne5,Rg8,Rab1,h4,Qd2,Rh7,c4,Ne7,Qe3,g3,Nf3,Rg6,Ng5,Nf5,Nxe6,Nxe3,Nxc7,gxf2+,Kxf2,Rxg2+,Kxe3,Kxc7,Re2,Rg3+,Kd2,h3,d5,cxd5,cxd5,Rg5,d6+,Kd7', 'Rxb7+,Kc6,Rxh7', 'https://lichess.org/training/N4dfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n4DXO', 'Rapid', 'HidarAlkayem', 1761, 'Muhe4444', 1668, 'e4,e5,Bc4,Nc6,c3,Nf6,d3,Bc5,Qf3,O-O,Bg5,Be7,Nd2,d6,h3,Nd7,Bxe7,Qxe7,O-O-O,Na5,g4,Nxc4,dxc4,Nc5,h4,a5,h5,f5,exf5,Qg5,Kb1,Be6,Ne4,Nxe4,Qxe4,Bc8,Nf3,Qe7,h6,g6,fxg6,hxg6,Qxg6+,Kh8,Ng5,Bxg4,f3', 'Bf5+,Qxf5,Rxf5', 'https://lichess.org/training/n4DXO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n4emt', 'Rapid', 'DrDubious', 2066, 'phantom355', 2099, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,h6,Bc4,Be7,d3,O-O,Be3,c6,Qd2,Be6,Bb3,Bxb3,axb3,a6,Na4,Nbd7,c4,b5,Nc3,b4,Ne2,a5,Ng3,d5,Nf5,dxe4,N3h4,Bc5,Bxh6,g6,Bxf8,Bxf8,Nh6+,Bxh6,Qxh6,Qf8,Qxf8+,Kxf8,dxe4,Nxe4,Rd1,Ndc5,Nf3,Re8,Nd2,Nxd2,Rxd2,Nxb3,Rd6,c5,O-O,Ke7,Rfd1,Nd4,Rd5,Rc8,Rxe5+,Kf6,f4,a4,g4,a3,g5+,Kg7,bxa3,Nf3+,Kf2,Nxe5,fxe5,bxa3,Ra1,Ra8,Ke3,Ra4,Kd2,Kf8,Kc3,Ke7,Kb3,Ra5', 'Rxa3,Rxa3+,Kxa3,Ke6,Ka4,Kxe5,Kb5', 'https://lichess.org/training/n4emt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n4hrl', 'Rapid', 'Vesaas', 1846, 'pinodambrosio', 1719, 'e4,e5,Bc4,Nc6,Nf3,Bc5,b4,Bb6,Bb2,d6,d4,Nxb4,dxe5,Ne7,e6,Bxe6,Bxe6,fxe6,O-O,Qd7,Bxg7,Rg8,Bh6,O-O-O,Nc3,Nbc6,Rb1,Rg6,Be3,e5,Bxb6,axb6,Nb5,Qg4,g3,Rf8,Nh4,Qxh4,Kh1,Qg5,c4,Nd4,Qa4,Nec6,Qa8+,Kd7,Qxf8,Rf6,h4,Qg4,Qxf6', 'Qh3+,Kg1,Ne2#', 'https://lichess.org/training/n4hrl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4JDi', 'Classical', 'Klements', 1635, 'Gatti3k', 1624, 'e4,e5,Nf3,Nc6,Bb5,Qf6,O-O,Bc5,c3,Nge7,d4,exd4,cxd4,Nxd4,e5,Qb6,Nc3,O-O,Bd3,d6,Ng5,g6,Nce4,dxe5,Kh1,Bf5,f4,Bxe4,Bxe4,exf4,Rxf4,Qd6,Qg4,Ndf5,Bxf5,Nxf5,Rxf5,gxf5,Qf3,Rae8,Bf4,Qe7,Qg3,Be3,Qh4,Kg7', 'Qxh7+,Kf6,Qh6#', 'https://lichess.org/training/N4JDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n4kRT', 'Blitz', 'CM conejoviejo67', 2421, 'CM Progress27', 2302, 'e4,e6,d3,c5,g3,b6,Bg2,Bb7,f4,Nc6,Nc3,g6,Nh3,Bg7,O-O,Nge7,Nf2,O-O,e5,d6,exd6,Qxd6,Nfe4,Qd8,g4,Rb8,Ng3,Nd4,Nce4,f5,gxf5,exf5,Ng5,Bxg2,Kxg2,Qd5+,Nf3,Nxf3,Qxf3,Qxf3+,Kxf3,Nd5,c3,Rfe8,Bd2,Re7,Rfe1,Rbe8,Rxe7,Rxe7,a4,Kf7,a5,b5,h4,h6,h5,b4,hxg6+,Kxg6,Rg1,bxc3,bxc3,Bh8,c4,Nb4,Ne4+,Kf7,Nxc5,Bd4,Rb1,Bxc5,d4,Bxd4,Rxb4,Re4,Rb7+,Kg6,Rc7,h5,c5,h4,c6,h3,Rb7,h2,Rb1', 'Bg1,Kg2,Re2+,Kh1,Rxd2', 'https://lichess.org/training/n4kRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4kTx', 'Rapid', 'pokermario', 1646, 'tekor', 1660, 'e4,e5,f4,Nc6,Nf3,d6,fxe5,dxe5,Bc4,h6,O-O,Nf6,d3,Nd4,Nxd4,exd4,e5,Nd7,Bxf7+,Ke7,e6,Nf6,Bd2,c5,b4,Bxe6,Bxe6,Kxe6,Qe2+,Kf7,bxc5,Bxc5', 'Qh5+,Kg8,Qxc5', 'https://lichess.org/training/N4kTx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4PxH', 'Rapid', 'Serega38', 2116, 'Bojan_Rankovic92', 1957, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb4+,Bd2,Nge7,Bxb4,Nxb4,Bxf7+,Kxf7,Qb3+,Nbd5,exd5,d6,Ng5+,Ke8,O-O,h6,Ne6,Bxe6,dxe6,d5,Qxb7,Rf8,Nc3,Rf6,Rfe1,Qb8,Rab1,Qxb7,Rxb7,Kd8,Re5,c6,Rd7+,Ke8,Rb7,Nf5,Ne2,g5,Rh7,Rb8,g4,Nh4,Rh8+', 'Rf8,Rxf8+,Kxf8,f4,Nf3+,Kf2,Nxe5', 'https://lichess.org/training/N4PxH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4Qj2', 'Blitz', 'Isvaz97', 1594, 'Raeff', 1596, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,e6,Nf3,b6,a3,Bb7,b4,Bd6,Bb2,O-O,Nbd2,Nc6,Qc2,Ne7,e4,Ng4,e5,Bxf3,Nxf3,Nf5,exd6,Qxd6,Qd3,Rfe8,h3,Nf6,O-O,Nh5,g4,Nf4,Qe4,Nxh3+,Kh1', 'Nxf2+,Rxf2,Ng3+,Kg1,Nxe4', 'https://lichess.org/training/N4Qj2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4Rsd', 'Rapid', 'korosh19', 1761, 'SergeySerg', 1747, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Bb5+,Bd7,Bxd7+,Qxd7,Nf5,g6,Ng3,Nc6,O-O,O-O-O,a4,Ne5,a5,a6,Nc3,f5,Nd5,Qe6,exf5,gxf5,Re1,Bh6,Bxh6,Nxh6,f4,Nhg4,fxe5,Qh6,h3,Nxe5,Nxf5,Qe6,Nb6+,Kb8,Ne3,Rhg8,Ng4,Qg6,Ra4,h5,Ne3,Rdf8,Rf1,Rxf1+,Qxf1,Qg3,Qf4', 'Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/N4Rsd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4sa8', 'Classical', 'ugurpc', 1808, 'Heizzen', 1831, 'd4,d5,g3,Nf6,Bg2,Bf5,Nf3,e6,O-O,Nbd7,Nh4,Bg6,c4,c6,Nxg6,hxg6,b3,Be7,Nc3,O-O,e3,Rc8,Bb2,a6,a3,Nb6,Qe2,Nbd7,Rad1,Qb6,Qc2,c5,cxd5,Nxd5,Bxd5,cxd4,Rxd4,exd5,Nxd5,Rxc2', 'Nxe7+,Kh7,Rh4#', 'https://lichess.org/training/N4sa8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4t1n', 'Rapid', 'TawandaMhako', 2116, 'vakontos', 2218, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,Bg4,Bc4,c6,O-O,Bxf3,Qxf3,Qxd4,Bb3,Qg4,Qd3,Nbd7,Be3,e6,Rfe1,Bc5,f3,Bxe3+,Rxe3,Qg6,Qd6,O-O-O,Nb5,Ne8', 'Nxa7#', 'https://lichess.org/training/N4t1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4tqc', 'Blitz', 'RaymondReddington1', 1740, 'MrSadFace', 1721, 'e4,c5,Nf3,Nc6,d4,Nxd4,Nxd4,cxd4,Qxd4,Qb6,Qxb6,axb6,Bb5,e6,O-O,Bc5,Bg5,f6,Bh4,Ne7,Rd1,Nc6,Nc3,O-O,Na4,d6,Nxc5,dxc5,a4,e5,Rd2,Be6,Rad1,Rad8,Rd6,Rxd6,Rxd6,Rd8,Rxe6,Rd1+,Bf1,Nd4,Rd6', 'Ne2+,Kh1,Rxf1#', 'https://lichess.org/training/N4tqc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4UCY', 'Rapid', 'maniangs', 1672, 'letstrye4', 1706, 'e4,e6,d4,d5,Nc3,Bb4,exd5,exd5,Bd2,Nf6,Nf3,O-O,Bd3,Re8+,Ne2,a5,O-O,Bg4,c3,Bd6,Re1,Bxf3,gxf3,c6,Ng3,Nbd7,Qc2,Qc7,Rxe8+,Rxe8,Re1,Rxe1+,Bxe1,g6,Qe2,Kg7,h4,h5,Qe3,Nf8,Qg5,Ne6,Nf5+,Kf8,Qxf6,gxf5,Bxf5,Bh2+,Kg2,Ng7,Bd2,Nxf5,Qxf5,Bd6,Bh6+,Ke8,Qxh5,Bf8,Qe5+', 'Qxe5,dxe5,Bxh6', 'https://lichess.org/training/N4UCY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N4zcX', 'Rapid', 'CM Schachtherapeut', 2131, 'baldaquinn', 2235, 'Nc3,d5,e4,d4,Nb1,c5,Bc4,Nc6,a4,e5,d3,f5,Ne2,Nf6,exf5,Bxf5,Ng3,Bg4,f3,Bd7,O-O,g6,f4,Be7,Na3,a6,Qe2,Qc7,fxe5,Bg4,Bf7+,Kxf7,Qxg4,Nxe5,Qg5,Kg7,Qh6+,Kf7,Bf4,Neg4,Qh3,Qd7,Rae1,Kg7,Nc4,Rae8,Be5,Rhf8,Rf4,Nxe5,Rxe5,Qxh3,gxh3,b5,axb5,axb5,Na3,Bd6,Rxe8,Rxe8,Rf2,Re1+,Kg2,Nd5,Nxb5,Bb8,Ne4,Nf4+,Kf3,Nxh3,Re2,Rf1+', 'Kg2,Rf5,Kxh3', 'https://lichess.org/training/N4zcX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n528t', 'Blitz', 'IM vizumatv4hoda', 2532, 'leonardreyes', 2334, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nc6,Nf3,cxd4,Be2,e5,cxd4,Bb4+,Nc3,exd4,O-O,Bxc3,bxc3,Nge7,Nxd4,O-O,Bf3,Qc5,Be3,Qxc3,Rc1,Qa5,Nxc6,Nxc6,Bxc6,bxc6,Rxc6,Qxa2,Bc5,Re8,h3,Ba6,Re1,Rxe1+,Qxe1,Qd5,Rc7,Bb7,f3,a5,Qc3,Rd8,Qxa5,Ra8', 'Qxa8+,Bxa8,Rc8+,Qd8,Rxd8#', 'https://lichess.org/training/n528t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N55pA', 'Rapid', 'RazorChess', 1630, 'Merijn', 1629, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,e6,Bb5,Bd7,Qa4,a6,Bxc6,Bxc6,Qc2,Nf6,Nc3,d5,e5,Nd7,Bg5,f6,exf6,Nxf6,Ne5,h6,Qg6+,Ke7,Bf4,Be8,Qd3,Nd7,O-O,Nxe5,Bxe5,Kd7,Rac1,Rc8,Rfe1,Bd6,Qg3,Bxe5,Qxe5,Qf6,Qg3,Rf8,f3,g5,Na4,Qxd4+,Kh1,Qxa4,Qh3,Rxc1', 'Qxe6+,Kc7,Rxc1+,Bc6,Qe7+', 'https://lichess.org/training/N55pA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5a3i', 'Blitz', 'Viswak123', 1583, 'tmmam', 1569, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb4+,Nbd2,d6,a3,Bc3,Rb1,Nxd4,Nxd4,Bxd4,Qb3,Qf6,Nf3,Bc5,Bg5,Qg6,e5,Be6,exd6,Bxc4,Qxc4,Qxb1+,Bc1,cxd6,Ng5,Nh6,Qe2+,Kf8,Qc4,Re8+,Kd2,Re5,f4,Rf5,Re1,g6,Qc3,Rg8', 'Nxh7#', 'https://lichess.org/training/n5a3i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N5ANL', 'Rapid', 'Umpolung', 1924, 'Chesstilt', 2078, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,Nc3,Nf6,h3,O-O,Qd2,d5,Nxc6,bxc6,e5,Ne4,Nxe4,dxe4,O-O-O,Qxd2+,Rxd2,Bxe5,Bc4,a5,Bc5,Re8,Re1,Rb8,c3,Bf4,Be3,Bxe3,Rxe3,Kg7,Rxe4,Bf5,Re3,f6,g4,Bc8,f4,h5,Rde2,hxg4,hxg4,Kf8,g5,Bg4,Rh2,f5,Rh7,Rbd8,Rf7+,Kg8,Rfxe7+,Kf8,Rf7+,Kg8,Rf6+,Kg7,Rxe8,Rxe8,Rxc6,Re4,Rc7+,Kf8,Rf7+,Ke8,Bb3,a4,Rf6,axb3,Rxg6,bxa2,Ra6,Rxf4,Rxa2,Kf7,Ra6,Re4,b4,f4,Kd2,f3,b5,Re2+,Kd3,Bf5+,Kd4,Re4+,Kd5,Re2', 'Rf6+,Ke7,Rxf5', 'https://lichess.org/training/N5ANL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5aOs', 'Rapid', 'jingan-2000', 1932, 'Yauza', 1993, 'e4,e5,Nf3,d6,Bc4,c5,d3,h6,Nc3,Nf6,Nd5,Nxd5,Bxd5,Be7,Be3,Nc6,O-O,O-O,Nd2,g5,Qh5,Kg7,h4,Be6,hxg5,Bxg5,f4,exf4,Bxf4,Bxf4,Rxf4,Qg5,Qf3,Kh7', 'Bxe6,Nd4,Rxf7+', 'https://lichess.org/training/n5aOs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5bPm', 'Rapid', 'ovsc', 1695, 'Rattoscarlatto', 1718, 'd4,d5,c4,e5,dxe5,c5,Nc3,Qa5,cxd5,Nd7,f4,Nh6,Bd2,Qb6,Nf3,c4,e4,Ng4,Qe2,Bc5,Qxc4,Bf2+,Kd1,Be3,Qd3', 'Nf2+,Kc2,Nxd3', 'https://lichess.org/training/n5bPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5cES', 'Rapid', 'juan1243', 1742, 'avkydin', 1625, 'e4,e5,Nf3,Nf6,Nxe5,Bd6,Nc4,Bc5,d4,b5,dxc5,bxc4,e5,Qe7,Qe2,Nd5,g3,Ba6,Bg2,c3,Qe4,Nf6,Qxa8', 'Qxe5+,Be3,cxb2,Qxb8+,Ke7,Qxb2,Qxb2', 'https://lichess.org/training/n5cES');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5e8g', 'Rapid', 'imlizardking', 1734, 'ublo', 1831, 'e4,c5,Nf3,d6,c3,Nf6,h3,Bd7,Bd3,Nc6,O-O,e5,Bc2,Qc7,Re1,Be7,d4,cxd4,cxd4,Rc8,Nc3,a6,dxe5,Nxe5,Nxe5,dxe5,Bg5,Be6,Bb3,Bxb3,Qxb3,O-O,Bxf6,Bxf6,Nd5,Qd8,Red1,b5,a4,Rc4,f3,Bg5,axb5,axb5,Qxb5,Qc8,Ra7,Rc1,Rxc1,Qxc1+,Kh2,Bf4+,Nxf4,Qxf4+,Kg1', 'Qe3+,Kh2,Qxa7', 'https://lichess.org/training/n5e8g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5hhH', 'Rapid', 'giannici', 1915, 'Manuel69', 1896, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nxd4,Qxd4,b6,Be3,Qc7,Bc4,a6,O-O,b5,Bb3,Bb7,Rad1,Nf6,a3,Ng4,f4,Nxe3,Qxe3,Bc5,Rd4,Qb6,Rfd1,O-O,Kf1,Bxd4,Rxd4,Bc6,Qd3,a5,Ne2,b4,a4,Kh8,Rd6,f6,Nd4,e5,Nf5,exf4,Ne7,Rae8', 'Ng6+,hxg6,Qh3#', 'https://lichess.org/training/n5hhH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5K8u', 'Classical', 'Hitman_stayalert', 1904, 'Nandi13', 1719, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Bc5,e5,Ng8,Re1,Nge7,Bg5,O-O,Nbd2,d6,Nb3,Re8,Nbxd4,Nxe5,Nxe5,dxe5,Rxe5,Bxd4,Bxe7,Rxe7,Rxe7,Qxe7,Qxd4,Be6,Rd1,Re8,h3,Bxc4,Qxc4,h6,Qa4,a6,Qb3,b6,Qa4,a5,Rd7,Qe1+,Kh2,Qxf2,Rxc7,Re2,Qg4,Rxc2', 'Qc8+,Kh7,Rxc2', 'https://lichess.org/training/n5K8u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N5KPF', 'Rapid', 'FM skoyen99', 2444, 'Damenkiller', 2388, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Nf3,Nbc6,a4,Bd7,Be2,Rc8,O-O,cxd4,cxd4,h6,Ba3,Na5,Bd3,Nc4,Qb1,Nxa3,Rxa3,Qc7,Nh4,O-O,f4,f5,exf6,Rxf6,g3,Nc6,Nf3,Na5,Ne5,Nc4,Bxc4,dxc4,Qb4,Be8,Rc3,Bh5,Rxc4,Qd8,Rxc8,Qxc8,c4,b6,Re1,Qc7,h3,g5,g4,Be8,fxg5,hxg5,Qd2,Rf4,Rf1,Rxf1+,Kxf1,Qd8,Nf3,Bxa4,Qxg5+,Qxg5,Nxg5,Bb3,Nxe6', 'Bxc4+,Ke1,Bxe6', 'https://lichess.org/training/N5KPF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N5Lch', 'Rapid', 'Petrov123', 1738, 'roastr', 1768, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Be2,Qa5+,Bd2,Qe5,Nc3,Bb4,f4,Qf6,e5,Qh4+,g3,Qd8,a3,Bxc3,Bxc3,Bb7,Bf3,Rb8,O-O,Qb6+,Kg2,c5,Bxb7,Qxb7+,Kg1,Ne7,Qd6,Nf5,Qxc5,Rc8,Qf2,O-O,g4,Ne7,Qh4,Qe4,Qxe7,Qxc2,Rf2,Qd3,Rd2,Qe3+,Kg2,Qxf4,h3', 'Rxc3,bxc3,Qxd2+', 'https://lichess.org/training/N5Lch');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5LtF', 'Rapid', 'VikhrenkoKA', 2246, 'VladimirNolletov50', 2075, 'd4,Nf6,Nf3,e6,g3,b6,Bg2,Bb7,O-O,Be7,c4,d5,Ne5,Nbd7,Nc3,c6,e4,dxc4,Nxc4,O-O,Bf4,c5,Nd6,Ba6,Re1,cxd4,Qxd4,Nh5,e5,Rb8,Qa4,Nc5,Qa3,Nxf4,gxf4,Nd3,Qxa6,Nxe1,Rxe1,Bxd6,exd6,Qxd6,Qc4,Rbc8,Qe4,Qd2,Re2,Qc1+,Bf1,Rfd8,Kg2,Rd2,Rxd2,Qxd2,Bd3,g6,Qe3,Qxb2,Ne4,Kg7,h4,h5,Nd6,Rc3,Qe5+,f6,Ne8+,Kf7,Qxf6+,Kxe8,Qxe6+,Kf8,Qf6+,Ke8,Bxg6+,Kd7,Bf5+,Kc7,Qe7+,Kc6,Bd7+,Kd5,Qe5+,Kc4,Be6+,Kb4,Qd4+,Ka3,Qd6+,Rc5,Qd3+,Kb4,Qe4+,Ka5,Qe1+,Qc3,Qxc3+,Rxc3,f5,Kb5', 'f6,Rd3,f7,Rd8,Bd7+', 'https://lichess.org/training/n5LtF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5MlO', 'Bullet', 'jmpschiepers', 1550, 'rafaelrs25', 1565, 'd4,e6,Nf3,d5,e3,Nf6,c3,c5,Bd3,cxd4,exd4,Nc6,O-O,h6,Bf4,Bd6,Qd2,O-O,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/n5MlO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5Nan', 'Rapid', 'kutayozdemir', 1666, 'tutanhamon1', 1757, 'e4,e5,Nf3,Nf6,Nc3,d6,h3,Be7,Bc4,Nc6,d3,Na5,Bb3,Nxb3,axb3,a6,Bg5,Be6,O-O,O-O,Re1,c5,Ne2,b5,c4,Qd7,Ng3,b4,Ra4,a5,Qa1,Qc6,Rxa5', 'Rxa5,Qxa5,Ra8', 'https://lichess.org/training/n5Nan');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N5nrx', 'Blitz', 'minhaz1986', 1545, 'AbsTR', 1608, 'e4,e5,d3,Nf6,Nf3,Nc6,b3,d5,exd5,Nxd5,Bb2,Bc5,Qe2,O-O,Nbd2,Nd4,Nxd4,Bxd4,Bxd4,exd4,O-O-O,Nc3,Qf3,a5,Re1,a4,Ne4,Nxa2+,Kb2,axb3,cxb3,f5,Nd2,Nc3,Ra1,Rxa1,Kxa1,Qg5,Nb1,Qc1,Be2,Be6,Rxc1', 'Ra8+,Na3,Rxa3+,Kb2,Ra2#', 'https://lichess.org/training/N5nrx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5p3G', 'Rapid', 'Aliwxx', 1759, 'Lampard_MR-1', 1776, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Bg4,Be2,Bf5,Nf3,e6,h3,a6,Nbd2,Nc6,a3,Bd6,O-O,O-O,Nb3,Re8,Nc5,b6,Nxa6,Be4,Bd3,Qc8,Bxe4,Nxe4,Qc2,Qxa6,Qxc6,Nf6,e4,e5,dxe5,Bxe5,Nxe5,Rxe5,f3', 'Rc5,Qxc5,bxc5', 'https://lichess.org/training/n5p3G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5sOH', 'Rapid', 'Timchesse', 1865, 'ezzmomn', 1910, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,Re1,h6,c3,O-O,d4,exd4,cxd4,Bb6,d5,Nb8,Nc3,d6,Bf4,Ng6,Bg3,a6,Bd3,Nd7,e5,dxe5,Nxe5,Ndxe5,Bxe5,Qg5,Bg3,Nf4,Bc2,Bf5,Qd2', 'Nh3+,gxh3,Qxd2', 'https://lichess.org/training/n5sOH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n5V2W', 'Classical', 'defrimmyrtaj68', 1904, 'dertiger', 1900, 'd4,d5,e3,Nf6,Nf3,c6,Be2,Bf5,O-O,e6,h3,h6,Bd3,Bxd3,Qxd3,Bd6,Nbd2,O-O,c4,Nbd7,cxd5,exd5,b3,Re8,a4,a5,Ba3,Bxa3,Rxa3,Qe7,Raa1,Ne4,Nxe4', 'dxe4,Qd1,exf3', 'https://lichess.org/training/n5V2W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n61We', 'Rapid', 'Guguta', 2017, 'fishstone', 1883, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Qe7,O-O,Nxe5,Nxe5,Qxe5,Re1,Ne4,Qf3,f5,Bf4,Qe7,Nd2,Kd8,Nxe4,fxe4,Rxe4,Qf8,cxd4,Be7,Rae1,Bf6,Re8+,Qxe8,Rxe8+,Rxe8,g3,d6,Be3,Bd7,Qxb7,Rc8,Ba6,h5,b4,h4,Qxa7,hxg3,hxg3,Rh8,Bxc8,Bxc8,b5,Rh7,b6,cxb6,Qxb6+,Kd7,d5,Rh5,Qc6+,Ke7,Bf4,Be5,Bxe5,Rxe5,Qxc8,Rxd5,Qc7+,Kf6,Qd8+,Ke6,Qg8+,Ke5,Qxg7+,Ke6,Qg8+,Ke5,Qxd5+,Kxd5,a4,Kc4,g4,d5,g5,d4,Kf1,Kc3,Ke1', 'Kc2,Ke2,d3+,Ke3,d2', 'https://lichess.org/training/n61We');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n62tV', 'Rapid', 'vicous', 1810, 'FreeFlyNorth', 1796, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nf3,Ne7,O-O,O-O,Re1,Bf5,Bxf5,Nxf5,c3,Nc6,Qb3,Rb8,g3,Be7,Bf4,Qd7,Nbd2,Rfe8,Re2,Bf8,Rxe8,Rxe8,Qxb7,Bd6,Bxd6,Qxd6,Qb3,h5,Qc2,Qg6,Nh4', 'Nxh4,Qxg6,Nxg6', 'https://lichess.org/training/n62tV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n68ml', 'Rapid', 'SASA007', 1898, 'belkassem', 2005, 'e4,e6,d4,d5,Nd2,c5,c3,cxd4,cxd4,a6,Ne2,dxe4,Nxe4,Be7,N4g3,Nf6,Be3,O-O,Ng1,Nc6,Nf3,Ng4,Bd3,Nxe3,fxe3,Bb4+,Nd2,g6,O-O,Nxd4,a3,Bxd2,Qxd2,Nb3,Qc3,Nxa1,Rxa1,f5,Bc2,a5,Rd1,Qf6,Qxf6,Rxf6,Bb3,a4,Ba2,Rf8,e4,Ra6,exf5,gxf5,Rf1,Kg7,Rd1,Kg6,Bc4,Rb6,Rd2,h5,Ne2,Kf6,Nf4,h4,Kf2,Ke5', 'Ng6+,Kf6,Nxf8', 'https://lichess.org/training/n68ml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n6a70', 'Blitz', 'tegu', 2302, 'IM cubanoases', 2306, 'c4,e6,g3,d5,Bg2,Nf6,Nf3,dxc4,Qa4+,c6,Qxc4,b5,Qc2,Bb7,Nc3,a6,O-O,c5,a4,b4,Nd1,Nbd7,b3,Be4,d3,Bc6,Nb2,Be7,Nc4,O-O,Bf4,Nd5,Bd6,N7f6,Bxe7,Qxe7,Na5,Bd7,Ne5,Rac8,Rac1,Nc3,Nac4,Rb8,Nxd7,Nxd7,Rfe1,Nb6,Ne5,Qd6,Nf3,e5,Nd2,f5,e4,f4,Nb1,fxg3,hxg3,Nxb1,Rxb1,Qd4,Bf1,Rf3,Be2,Rxg3+,Kf1,Rh3,Bg4,Rh2,Qe2,Rf8,f3,Rxe2,Rxe2,Qxd3,Rb2,c4,bxc4,Nxc4,Rxb4,Rxf3+,Bxf3,Qxf3+,Ke1,Ne3', 'Rb8+,Kf7,Rf2', 'https://lichess.org/training/n6a70');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n6aho', 'Blitz', 'FM carloseduar100', 2219, 'VincFrancisco_Bacoor', 2111, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bg4,Be2,e6,O-O,Be7,a3,O-O,c4,Nf6,Nc3,Nc6,h3,Bh5,Be3,Re8,Re1,Qd7,d5,exd5,Nxd5,Nxd5,cxd5,Nb8,Qb3,b6,Ne5,Qf5,Bxh5,Qxh5,Bd4,Bf6,d6,cxd6,Nxf7,Qxf7', 'Rxe8#', 'https://lichess.org/training/n6aho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N6c7M', 'Blitz', 'mariasmit', 2240, 'Drin007', 2251, 'd4,d5,Nc3,e6,Nf3,Nf6,Bg5,Be7,Bxf6,c6,e4,Bxf6,Bd3,dxe4,Nxe4,Bxd4,c3,Bb6,Qc2,O-O,O-O-O,Nd7,h4,Qe7,g4,f5,Neg5,h6,gxf5,hxg5,hxg5,Nc5,f6,gxf6,gxf6,Qxf6,Rdg1+,Kf7,Rh7+,Ke8,Bg6+,Kd8,Rd1+,Nd7,Qd3,Qxf3', 'Rxd7+,Bxd7,Qxd7#', 'https://lichess.org/training/N6c7M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n6e2K', 'Classical', 'josevicentleones1940', 1778, 'ttsag', 2047, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nd2,Bg7,Be2,O-O,O-O,d6,f3,Nxd4,Bxd4,Be6,c4,a5,a4,Nd7,Bxg7,Kxg7,Kh1,Qb6,Qc2,Rfc8,Qc3+,f6,b3,h5,f4,Bg4,Bf3,Rh8,h3,Rh6,Rae1,Rah8,Qe3,Qb4,Kg1,Bxf3,Nxf3,Nc5,Rb1,Qb6,Rfe1,Rd8,Kf1,Rhh8,Nd4,Kf7,Nb5,Nd7,Kf2,g5,Qxb6,Nxb6,fxg5,fxg5,Ke3,Nd7,Rf1+,Kg6,Rf5,e6,Rf2,Nc5,Kd4,e5+,Kd5,Nd3,Rf3,Nb4+,Ke6', 'Rhe8#', 'https://lichess.org/training/n6e2K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n6f3t', 'Blitz', 'RobbyKatana', 2122, 'drahmedsalem', 2124, 'e4,c5,Nc3,d6,f4,e6,Nf3,Be7,Bb5+,Bd7,O-O,a6,Bxd7+,Qxd7,d4,cxd4,Nxd4,Nc6,Be3,Nf6,a4,O-O,a5,Qc7,Nb3,Rac8,Bb6,Qb8,Ra4,Nd7,Be3,Nc5,Nxc5,dxc5,e5,Rcd8,Qh5,g6,Qh3,Nd4,Ne4,Nf5,Bf2,Rd4,Rxd4,cxd4,g4,Ne3,Bxe3,dxe3,Nf6+,Bxf6,exf6,Kh8,Qh6,Rg8,Rf3,e2', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/n6f3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n6FC1', 'Rapid', 'tornado42geo', 1855, 'Jesussda', 1600, 'e4,c5,Nc3,Nc6,a3,g6,Nf3,Bg7,Bb5,Nd4,Nxd4,Bxd4,Ne2,Bg7,c3,a6,Ba4,b5,Bc2,Bb7,O-O,e6,d4,c4,d5,exd5,exd5,Ne7,d6,Nc8,Re1,O-O,Ng3,Re8,Rxe8+,Qxe8,Be3,Be5,Bc5,Qe6,Be4,Nxd6', 'Bxd6,Bxd6,Bxb7', 'https://lichess.org/training/n6FC1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n6h7J', 'Rapid', 'knez1992', 1663, 'you_move_next', 1649, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,Nf3,Bg4,h3,Bh5,O-O,Nbd7,d3,e6,Ne4,Nxe4,dxe4,Ne5', 'Qxd8+,Rxd8,Nxe5', 'https://lichess.org/training/n6h7J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n6iMn', 'Rapid', 'Jmargalef', 1953, 'Perezsaurio', 1644, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Qd2,c6,f3,b5,O-O-O,Qa5,Kb1,b4,Nce2,Be6,b3,Nbd7,e5,Nd5,exd6,Nc3+,Nxc3,bxc3,Qc1,O-O,dxe7,Rfe8,Bd6,Qb6,Ne2,a5,Nxc3,a4,Qb2,axb3,cxb3,Bf5+,Ka1,Bxd4,Bc4,c5,g4,Qxd6,gxf5,Rxe7,Qc2,Qf6,fxg6,Bxc3+,Kb1,hxg6,Rhg1,Bd4', 'Rxg6+,Kf8,Rxf6', 'https://lichess.org/training/n6iMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N6oak', 'Blitz', 'denis1982', 1522, 'KasparovsChihuahua', 1501, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bg5,Nf6,Bd3,O-O,c4,c6,Qc2,h6,Ne5,Be6,Nd2,hxg5,h4,Ne4,hxg5,Qxg5,Bxe4,dxe4,Nxe4,Qxg2', 'Nf6+,gxf6,Qh7#', 'https://lichess.org/training/N6oak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n6Pum', 'Rapid', 'clsi', 1646, 'AleksandrSergeevych', 1626, 'd4,d5,c4,Nf6,Nc3,Bf5,e3,Nc6,Nf3,e6,c5,a6,b4,b5,a3,h6,Nh4,Bh7,g3,g5,Nf3,Ne4,Bb2,Be7,Bg2,g4,Nd2,f5,h3,gxh3,Qh5+,Kd7,Qxh3,Nxd2,Kxd2,Bg5,Ne2,Bg6,Nf4,Bxf4,exf4,a5,Rhe1,axb4,axb4,Rxa1,Rxa1,Nxb4,Bc3,Nc6,Qh1,Qf6,Kd3,b4,Bb2,h5,Ra4,Rb8,Ra6,b3,Bxd5', 'Nb4+,Kd2,Nxa6', 'https://lichess.org/training/n6Pum');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N6TWU', 'Classical', 'Saicho_123', 1673, 'Nnamdi', 1656, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,e5,Nd7,exd6,cxd6,Bb5,a6,Ba4,b5,Bb3,Nf6,Bd5,Rb8,Bg5,Be7,O-O,O-O,Rfe1', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/N6TWU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N6V1g', 'Rapid', 'ehsanconceptart', 2239, 'PolycythemiaVera', 2258, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,d6,f3,Bd7,Qd2,Rb8,O-O-O,Na5,g4,b5,h4,Nc4,Bxc4,bxc4,h5,Qb6,b3,cxb3,axb3,a5,Ne6,Qb4,Nxg7,Rfc8,Kb2,Kxg7,hxg6,fxg6,Bd4,e5,Bxe5,dxe5,g5,Be6,gxf6+,Kxf6,Nd5+,Bxd5,Qxb4,axb4,Rxd5,Rc3,Rxh7,Rxf3,Rd6+,Kg5,Rg7,Kf4,Rgxg6,Kxe4,Rb6,Rc8,Rxb4+,Ke3,Re6,Rf5,Rb5,Kf4,Rb4+,Kf3,Rh4,Kg3,Re4,Rf2,R6xe5,Rfxc2+,Ka3,Kf3,Re3+,Kf4,R5e4+,Kf5,Re5+,Kf4,R3e4+,Kf3,Rd4,Rc1,b4,Rb8,b5,Rb1,Rdd5', 'Ra8#', 'https://lichess.org/training/N6V1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n6VTR', 'Rapid', 'Fenix2602', 1916, 'kall2y3d', 1935, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,O-O,Be7,Nc3,O-O,Rd1,c6,e5,dxe5,Qxe5,Qe8,Bg5,h6,Bh4,g5,Bg3,Nh5,Re1,Nxg3,hxg3,Be6,Bxe6,fxe6,Qxe6+,Rf7,Qxh6,Qf8,Qe6,Re8,Qg4,Rxf2,Re6,Rf7,Rae1,Qg7,Ne4', 'Qd4+,Kh2,Rh7+', 'https://lichess.org/training/n6VTR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n6w77', 'Rapid', 'Argentina555', 1877, 'Deli_Sahin', 1871, 'e4,c6,h3,d5,exd5,cxd5,d4,Bf5,Nf3,e6,a3,Nd7,Nc3,a6,Bg5,Ngf6,Bh4,Rc8,Bd3,Bg6,Ne5,Bd6,f4,O-O,O-O,Qb6,Ne2,Nxe5,fxe5,Bxe5,Kh1,Bxd4,Nxd4', 'Qxd4,Bxf6,gxf6', 'https://lichess.org/training/n6w77');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N6wtn', 'Rapid', 'Yurii67', 1720, 'likeahuman', 1710, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f4,e5,Nb3,Be7,h3,Bd7,Be3,Bc6,Qf3,Nbd7,O-O-O,Qc7,g4,O-O-O,g5,Ne8,Bc4,exf4,Bxf4,Ne5,Bxe5,dxe5,h4,Nd6,Bd5,Kb8,Bxc6,bxc6,Rd3,f5,exf5,Rhf8,Nc5,Qb6,Qe3', 'Nc4,Rxd8+,Rxd8,Nd7+,Rxd7,Qxb6+,Nxb6', 'https://lichess.org/training/N6wtn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N6z9z', 'Blitz', 'Jullianrys27', 2071, 'leonidich', 1969, 'Nf3,Nc6,c4,e5,Nc3,Nf6,e4,Bb4,d3,d6,Bg5,O-O,Be2,Nd4,O-O,Bxc3,bxc3,Nxe2+,Qxe2,b6,h3,h6,Bh4,Be6,Nh2,g5,Bg3,Kg7,h4,Nh7,hxg5,Qxg5,Nf3,Qg4,Rfe1,f5,exf5,Rxf5,Nh2,Qxe2,Rxe2,Raf8,Rae1,Ng5,Ng4,a5,Ne3,R5f7,d4,exd4,cxd4,Ne4,d5,Nxg3,fxg3,Bd7,Nc2,Kg6,Nd4,Rb8,Re7,Rbf8,Ne6,Bxe6,R1xe6+,Kg5,a4,Rf1+,Kh2,R8f7,Re8,Rc1,Rg8+,Kh5,Re3,Rxc4,g4+,Rxg4', 'Rh3+,Rh4,g4#', 'https://lichess.org/training/N6z9z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n70cG', 'Rapid', 'soulaimane', 1811, 'veronchess', 1894, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c4,Ne7,cxd5,cxd5,Nc3,Nbc6,Bb5,a6,Ba4,Bg4,Be3,b5,Bc2,Nf5,h3,Bxf3,Qxf3,Nfxd4,Bxd4,Nxd4,Qd3,Nxc2+,Qxc2,Rc8,Qb3,Be7,O-O,O-O,a4,b4,Ne2,Qc7,Rac1,Qxe5,Ng3,Qf4,Rxc8,Rxc8,Qd3,a5,Qa6,Rc6,Qxc6,g6,Qe8+,Bf8,Ne2,Qd2,Qb5,Qxb2,Rc1,Qd2,Rc8,Qe1+,Kh2,Kg7,Qe8', 'Bd6+,f4,Qxe2', 'https://lichess.org/training/n70cG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n70cz', 'Rapid', 'Milmsster', 1715, 'gerry25', 1716, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d3,Be7,Nc3,O-O,Be3,b6,a3,Na5,Ba2,c5,Nxe5,d6,Nc4,Nc6,Nb5,d5,exd5,Nxd5,Bd2,a6,Nc3,b5,Nxd5,bxc4,dxc4,Bd6,Bc3,Bb7,Qf3,Nd4,Bxd4,cxd4,Rfe1,Rc8,b4,Bxd5,Qxd5,Bb8,h3,Qxd5,cxd5,Rxc2,Re7,d3,Bb3,Rb2,Bc4,d2,Rd1,Bf4,g3,Bg5,Re2,Rc2,Bd3', 'Rc1,Rxd2,Bxd2,Rxc1,Bxc1', 'https://lichess.org/training/n70cz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N73AY', 'Rapid', 'DrSergey', 1976, 'Izztupido', 2065, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,a3,Bxc3+,Qxc3,O-O,dxc5,Qc7,b4,b6,cxb6,axb6,Bb2,Bb7,Nf3,d6,g3,Nbd7,Bg2,Rfc8,Rc1,Rab8,O-O,Ba6,b5,Bb7,Rfd1,Nc5,Nd2,Na4,Qb3,Nxb2,Qxb2,Bxg2,Kxg2,Qc5,Nb3,Qc7,Qd4,Rd8,Nd2,Ra8,Ra1,Ra4,e4,Nd7,Rdb1,Rda8,Qc3,Ne5,Rb4,h6,Rxa4,Rxa4,Qb3,Ra8,f4,Nd7,a4,Nc5,Qc2,Qb7,Kf3,f5,Ke3,fxe4,Nxe4,Qc7,Qd2', 'Nb3,Qxd6,Qxd6,Nxd6,Nxa1', 'https://lichess.org/training/N73AY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n73QV', 'Rapid', 'aaliiarslan76', 1895, 'MuglaSimidi', 1853, 'd4,Nf6,c4,e5,dxe5,Ng4,Nc3,Nc6,Nf3,Bc5,e3,Ngxe5,Be2,d6,O-O,Be6,b3,Qf6,Ne4', 'Nxf3+,Bxf3,Qxa1', 'https://lichess.org/training/n73QV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n740X', 'Classical', 'shashikant77', 1854, 'mandarkumbhar', 1683, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Bc4,e6,h4,h6,h5,Bh7,Qe2,Be7,Ne5,Nd7,Nxf7,Kxf7', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/n740X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N79n8', 'Rapid', 'joelppp', 1755, 'Tambov-Russia', 1792, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,O-O,Nf6,Re1,d6,Be3,Bb6,Bxb6,axb6,d4,O-O,dxe5,Nxe5,Nxe5,dxe5,Qe2,Bg4,Qe3,Bh5,Nc3,Bg6,Rad1,Qe7,h3,Qc5,Qxc5,bxc5,f3,Rfd8,a3,c6,Rxd8+,Rxd8,Rd1,Rxd1+,Nxd1,b5,Be2,Nd7,Kf2,f5,exf5,Bxf5,c3,c4,Ne3,Be6,g4,Nc5,Ng2,Na4,f4,exf4,Nxf4,Bf7,Bf3,Be8,Ne6,Nxb2,Nd4,c5,Ne6,Nd3+,Ke3,Bd7,Nc7,Ne1,Bd5+,Kf8,Na6,Nc2+,Kd2,Nxa3,Nxc5,h5,Bf3,hxg4', 'Nxd7+,Ke7,Bxg4', 'https://lichess.org/training/N79n8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7Cxe', 'Rapid', 'larrybaby', 1815, 'piyushbothra25', 1887, 'e4,c5,Nf3,e6,c3,d5,d4,dxe4,Ne5,cxd4,cxd4,Bd6,Bb5+,Bd7,Nxd7,Nxd7,d5,exd5,Qxd5,Bb4+,Bd2,Bxd2+,Nxd2,Nf6,Qe5+,Qe7,Qxe7+,Kxe7,O-O,a6,Ba4,b5,Bb3,Nc5,Bc2,Nd3,Rab1,Rhd8,Nxe4,Nxe4,Bxd3,Rxd3,Rfe1,f5,f3,Rd4,fxe4,fxe4,Re2,Kd6,Rbe1,Re8,Kf2,Kd5,Kg3,Rf8,h4,a5,Kg4,e3+,Kh3,Rf2,Rxe3,Rxb2,Re5+,Kc4,Rc1+,Kd3,Rcc5,Rdb4,a3,R4b3,a4,bxa4,Rxa5,a3,Re7,Kc3,Rxg7', 'Kb4+,g3,Kxa5', 'https://lichess.org/training/n7Cxe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N7dcj', 'Blitz', 'al1978', 2305, 'CM Sultai', 2302, 'c4,Nf6,Nc3,g6,d4,d6,e4,Bg7,Be2,O-O,Nf3,e5,O-O,Nc6,d5,Ne7,b4,Ne8,Nd2,f5,c5,f4,Bg4,Nf6,Bxc8,Qxc8,Nc4,g5,f3,h5,a4,g4,Ba3,Ng6,Rc1,Qd7,b5,Ne8,a5,Nh4,Rc2,Rf6,Kh1,Rg6,c6,bxc6,dxc6,Qc8,Nd5,Bf8,Qe1,Qd8,Rd2,gxf3,gxf3,Qg5,Qf2,Rb8,Nc3,Nf6,Rg1', 'Qxg1+,Qxg1,Rxg1+,Kxg1,Nxf3+', 'https://lichess.org/training/N7dcj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N7dWn', 'Rapid', 'Nosniborr', 1775, 'hombre3', 1798, 'e4,c6,d4,d5,e5,c5,Nf3,Nc6,Nc3,Bg4,Bb5,Bxf3,Qxf3,cxd4,Qxd5,Qb6,Bxc6+', 'bxc6,Qc4,dxc3', 'https://lichess.org/training/N7dWn');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 24;
-    }
-
-}
\ No newline at end of file
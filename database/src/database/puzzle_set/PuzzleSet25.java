@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet25 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N7EbD', 'Classical', 'xeroxx', 1983, 'cmndrnchf', 1803, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,Bxf6,gxf6,Qg4,dxe4,Qg7,Rf8,O-O-O,f5,Qxh7,Bg5+,Kb1,a6,h4,Bf6,Nge2', 'Rh8,Qxh8+,Bxh8', 'https://lichess.org/training/N7EbD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N7Fd5', 'Blitz', 'nexus42', 1731, 'mautganon', 1765, 'd4,d6,c4,Nf6,Nc3,Bf5,Bg5,g6,e3,Bg7,f4,Nbd7,Nf3,O-O,Bd3,e6,Bxf5,exf5,O-O,c6,Qc2,Qb6,Kh1,Rfe8,Rfe1,Ne4,Na4,Qa5,Bh4,c5,a3,cxd4,exd4,h6,b4,Qc7,Rac1,d5,c5,Qxf4,Bg3,Nxg3+,hxg3,Qxg3,Rxe8+,Rxe8,c6,bxc6,Qxc6,Re7,Qxd5,Qf4,Rc8+,Kh7,Qa8,Bxd4,Qd5,Re1+,Nxe1,Qf1+,Kh2,Be5+,g3,Qxe1', 'Qxf7+,Bg7,Qg8#', 'https://lichess.org/training/N7Fd5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7Feu', 'Classical', 'Tuesk', 1670, 'castroll', 1666, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,f4,e6,Be3,Be7,g4,e5,Nf5,Bxf5,gxf5,d5,exd5,exf4,Bxf4,Nb4,Bb5+,Nd7,a3,Na6,d6,Bh4+,Bg3,O-O,Qg4,Re8+,Ne2,Bf6,O-O-O,Rc8,h4,h6,Bf4,Kh7,Ng3,Be5,Bxe5,Nxe5,Qf4,Nd7,Nh5,Rg8,Qg4,Nac5,Bc4,Ne5,Qd4,Nxc4,Qxc4,Nd7,Qxf7,Ne5,Qd5,Ng4,Rdg1,Rxc2+,Kb1,Qc8,Rxg4,Rf2,f6', 'Qc2+,Ka1,Qxb2#', 'https://lichess.org/training/n7Feu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N7Fh3', 'Rapid', 'mhummel', 1922, 'Happle', 1800, 'd4,f5,Nf3,Nf6,c3,e6,Bg5,Be7,Nbd2,O-O,Bxf6,Bxf6,e4,fxe4,Nxe4,Be7,Bd3,d5,Ng3,Nd7,Qe2,Nf6,Ng5,Qd6,Nh5,h6,Nxf6+,Bxf6,Nh7,Rf7,Bg6,Re7,Nxf6+,gxf6,Qh5,Kg7,O-O,e5,Rae1,e4,Re3,Qf4,Rg3,Kf8,Qxd5,Bd7,Be8,Be6,Qh5,Rexe8,Qg6,Bf7,Qg7+,Ke7,Re1,Rg8,Qh7,Rxg3', 'Rxe4+,Qxe4,Qxe4+', 'https://lichess.org/training/N7Fh3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7FuN', 'Classical', 'babekaslan', 1838, 'Pappoose', 1946, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,exd4,Qxd4,Nf6,Bg5,Be7,O-O,c5,Qc3,Nxe4,Qxg7,Bf6,Bxf6,Qxf6,Qxf6,Nxf6,Re1+,Kd7,Nc3,Bb7,Nh4,Rhg8,g3,Rg5,Re2,Rag8,Rae1,Rh5,Kf1,Rxh4,gxh4,Bg2+,Kg1,Bf3+,Kf1,Bxe2+,Rxe2,c6,Ne4,Nd5,Ng3,Ne7,Nh5,Rg6,Re3,Rh6,Ng3,Rxh4', 'Rxe7+,Kxe7,Nf5+,Kf6,Nxh4', 'https://lichess.org/training/n7FuN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7GkH', 'Blitz', 'Maldini86', 1753, 'PerMadsen', 1743, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qc4,Nh5,g4,Ng7,b3,Ne6,Bb2,Bg7,Bg2,O-O,Nbd2,Qc7,O-O-O,a6,h4,b5,Qe2,Nf4,Qf1,Nxg2,Qxg2,Rb8,h5,Nxe5,Ng5,Nd3+,Kb1,Bxb2,hxg6,Bg7,Nxh7,Nf4,Qh2,Qe5', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/n7GkH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7hmO', 'Blitz', 'Zidjan', 1696, 'Lani-Akea', 1728, 'e4,e5,f4,Nc6,Nf3,Bc5,Bc4,d6,c3,Bg4,d4,exd4,cxd4,Nxd4,Qd3,Bxf3,gxf3,Qh4+,Kd1,Qf2,Be3,Qxf3+,Kc1,Qxh1+,Kd2,Nf3+,Kc3,Qe1+,Nd2,Qxa1,Nxf3,Bxe3,Qxe3,Qh1,e5,Ne7,exd6,cxd6,Bxf7+,Kxf7,Ng5+,Kg8', 'Qe6+,Kf8,Qf7#', 'https://lichess.org/training/n7hmO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N7iOV', 'Rapid', 'alabama13012', 1671, 'brzrf46', 1913, 'e4,e5,Nf3,Qf6,Bc4,Bc5,d3,h6,O-O,g5,Be3,Be7,c3,a5,Nxe5,Qxe5,Bd4,Qf4,Bxh8,h5,Nd2,g4,g3,Qg5,f4,Qh6,Be5,Bc5+,Kg2,h4,Rh1,Nc6,d4,Nxe5,fxe5,Be7,Qxg4,d5,Qxg8+,Kd7,Bxd5,Qxd2+,Kf1,Qd3+,Ke1,Qe3+,Kd1,Qf3+,Kc2,Qg2+,Kb3', 'a4+,Kc4,Qe2#', 'https://lichess.org/training/N7iOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N7JaB', 'Classical', 'gliscorx', 1930, 'Artwell', 1934, 'd4,d5,c4,c6,Nf3,Nf6,g3,e6,Bg2,dxc4,Ne5,Bb4+,Nc3,Nd5,Qc2,b5,O-O,Bxc3,bxc3,f6,e4,fxe5,exd5,cxd5,dxe5,Nc6,Re1,Qe7,Rb1,a6,a4,b4,cxb4,Nxb4,Qc3,a5,Ba3,Rb8,Rb2,Bd7,Reb1,Bxa4', 'Bxb4,axb4,Rxb4,Rxb4,Rxb4', 'https://lichess.org/training/N7JaB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7kV5', 'Blitz', 'Beastofuyo', 2344, 'IM micfel', 2378, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,O-O,O-O,d5,exd5,cxd5,Bg5,c6,Qf3,Rb8,h3,Bd6,Na4,Be6,b3,c5,Rad1,Re8,Rfe1,h6,Bxf6,Qxf6,Qxf6,gxf6,Bf1,Red8,g3,Be7,Bg2,Rd7,Nb2,Rbd8,Nd3,Kf8,Nf4,Bf5,Rxd5,Bxc2,Rc1,Bf5', 'Rxf5,Rd1+,Rxd1', 'https://lichess.org/training/n7kV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7pRr', 'Classical', 'coolguy2189', 1685, 'MZiloveyu', 1688, 'd4,Nf6,Bf4,c5,d5,g6,Nc3,Bg7,e4,O-O,Bd3,d6,Nf3,Nh5,Be3,Nd7,Qd2,a6,a4,Re8,g4,Nhf6,h3,e6,dxe6,Rxe6,Bc4,Nxe4,Nxe4,Rxe4,Bd5,Re8,Bxf7+,Kxf7,Qd5+,Kf8,Ng5,Ne5', 'Nxh7+,Ke7,Bg5+', 'https://lichess.org/training/n7pRr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N7QYB', 'Rapid', 'ontaz-2008_yandexru', 2176, 'XxCrazygamerxX', 2102, 'd4,Nf6,c4,d6,Nc3,g6,e4,Nbd7,Bf4,Bg7,Nf3,O-O,Bd3,Re8,O-O,e5,dxe5,dxe5,Bg5,c6,Qd2,Qc7,Bh6,Nc5,Bxg7,Kxg7,b4,Nxd3,Qxd3,Rd8,Qc2,Bg4,Nd2,Qd7,Nb3,Qd3,Rac1,Qxc4,h3,Be6,Nc5,Qxb4,Nxe6+,fxe6,Rb1,Qe7,Rfd1,Rxd1+,Rxd1,b6,Qd3,Rb8,Qd6,Qb7,Qxe6,Re8,Qd6,Re7,Kf1,Rd7,Qxe5,Rxd1+,Nxd1,Qa6+,Kg1,Qxa2,Nc3,Qf7,Qd6,c5,e5,Nh5,e6,Qf8,e7,Qe8,Ne4,Kg8,Qe6+,Kh8,Ng5,Ng7,Qf6,Kg8,Ne6,Nf5', 'Qf8+,Qxf8,exf8=Q#', 'https://lichess.org/training/N7QYB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7rqg', 'Rapid', 'rv68', 1917, 'e1_cas4dor', 1929, 'e4,c5,Nf3,d5,exd5,Qxd5,Nc3,Qd8,Bb5+,Bd7,O-O,Nf6,Bxd7+,Nbxd7,d4,e6,Bg5,cxd4,Nxd4,Be7,Qf3,O-O,Rad1,Qb6,Nb3,Ne5,Qe3,Qxe3,Bxe3,Nc4,Rb1,Ng4,Bf4,a5,Nd2,Nxd2,Bxd2,Ne5,Ne4,Nc4,Rfd1,Rad8,Bc3,b6,Kf1,b5,Ke2,b4,Be1,Rxd1,Kxd1,Rd8+,Ke2,f5,Nd2,Nxd2,Bxd2,g5,c3,g4,Rd1,Kf7,Bf4,Rxd1,Kxd1,bxc3,bxc3,h5,a4,Bd8,Be5,h4,h3,Bb6,f3,gxf3,gxf3,Ke8,Ke2,Kf7,Kd3,Kg6,Kc4,Kf7,Kb5,Bd8,c4,Ke8,c5,Kd7,c6+,Kc8,Kc5,Bc7,Bf6,Bg3,Be7,e5,Bd6', 'e4,f4,e3,Be5,e2', 'https://lichess.org/training/n7rqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7sFp', 'Blitz', 'DolamiteD', 1898, 'Patxi00', 1868, 'd4,e6,Bf4,d5,e3,Bd6,Bg3,Bxg3,hxg3,Nf6,Bd3,a6,Nd2,b5,a4,bxa4,Rxa4,Bd7,Ra1,O-O,Nb3,g6,Nf3,Ne4,Bxe4,dxe4,Ne5,Bb5,c4,Bd7,O-O,f6,Nxd7,Qxd7,Nc5,Qe7,b4,Nd7,Qa4,Rfd8,Rfb1,Nxc5,bxc5,Qd7,c6,Qe7,Qb4,Qf7,Qc5,Kg7,Rb7,Kh6,Qa5,f5,Rxc7,Qe8,Qc5,Rac8,Rxc8,Rxc8,c7,Qd7,Rxa6,Rxc7,Qe5,Rxc4,Rxe6,Rc1+,Kh2,Qa4,Re7,Qd1,Qf4+,g5,Re6+,Kh5,g4+,fxg4', 'Qf7+,Kh4,Qxh7#', 'https://lichess.org/training/n7sFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N7TyI', 'Blitz', 'mo4ko987', 2014, 'Mbeck116', 2044, 'e4,e5,Nf3,Nc6,d3,Bc5,Be2,Nf6,O-O,d6,Be3,Bxe3,fxe3,O-O,c4,Ng4,Qd2,f5,Nc3,fxe4,Nxe4,Be6,Nfg5,Qe7,Nxe6,Qxe6,h3,Nf6,Nxf6+,Rxf6,Rxf6,Qxf6,Rf1,Qg6,Bf3,Nb4,Be4,Qg3,Qxb4,Qxe3+,Kh1,Rb8,Qxb7,Rxb7', 'Bd5+,Kh8,Rf8#', 'https://lichess.org/training/N7TyI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7VE2', 'Classical', 'AndraGOw', 1658, 'Crazy0', 1633, 'd4,Nf6,c4,c6,Nc3,g6,e3,Bg7,Nf3,O-O,Bd3,Re8,O-O,d6,h3,Nbd7,Re1,e5,dxe5,dxe5,e4,Nh5,Be2,Nf4,Bxf4,exf4,Qd2,Bh6,Bd3,Nc5,Ne2,Nxd3,Red1,Rxe4,Nc3,Rxc4,Qxd3,Qxd3,Rxd3,Bf5,Rd2,Rc5,Rad1,Be6,Ne4,Rb5,b3,Kg7,Nd4,Rd5,Nxe6+,fxe6,Rxd5,exd5,Nd6,Rb8,Re1,Kg8,Re7,b5,Rxa7,d4,Kf1,Rd8', 'Nf7,Rd5,Nxh6+', 'https://lichess.org/training/n7VE2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N7wYI', 'Rapid', 'ugurdln', 1778, 'vagif_safarli', 1800, 'c4,Nc6,d4,g6,Nc3,Bg7,Nf3,d6,e4,e5,d5,Nd4,Be3,Nxf3+,Qxf3,h5,h4,Bg4,Qg3,Nf6,f3,Bd7,Bd3,c6,Bg5,Qc7,O-O,O-O-O,b4,c5,b5,Qa5,Qe1,a6,bxa6,Qxa6,Qd2,Kc7,Rfb1,b6,a4,Qa5,Nb5+,Bxb5,axb5,Qxd2,Bxd2,Ra8,Ra6,Rxa6,bxa6,Ra8,Ra1,Nd7,g4,Nb8,a7,Nd7,gxh5,gxh5,Bg5,Bf6,f4,Bxg5,fxg5,Kb7,Be2,Rxa7,Rxa7+,Kxa7,Bxh5,b5,cxb5,c4,Bd1,Kb6,h5,Nf8,Kg2,Kxb5,Kf3,Kc5,Kg4,Kd4,h6,Kxe4,Bc2+,Kxd5,Kf5,Kd4', 'Kf6,e4,Kxf7', 'https://lichess.org/training/N7wYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N7YBG', 'Rapid', 'Samgar2017', 1682, 'SlavaTomsk', 1743, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Bc5,O-O,a6,a3,d6,h3,Nf6,Be3,Nd4,Nxd4,Bxd4,Bxd4,exd4,f4,O-O,f5,b5,Ba2,c5,Nd2,Bb7,Nf3,Re8,Nh2,d5,Ng4,dxe4,Nxf6+,Qxf6,dxe4,Bxe4,Qg4,Bxc2,Rac1,Bd3,Rf2,c4,Bb1,Bxb1,Rxb1,d3,Rd2,Re5,b3,Rxf5,bxc4,bxc4,Rb4,Rf4,Qg3,Qd4+,Kh2,Rf1,Qc7,Qg1+,Kg3,Qe3+,Kh2,Qxd2,Rxc4,Re8,Qd7,Qf4+', 'Rxf4,Rxf4,Qxe8+', 'https://lichess.org/training/N7YBG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7zJi', 'Blitz', 'Cursedgoat', 1823, 'AntunesPeroza', 2221, 'e4,c5,Nc3,g6,Bc4,Bg7,Qf3,e6,Nb5,Qb6,Qg3,e5,d3,a6,Nc3,Ne7,Bg5,Qxb2,Bxe7,Qxa1+,Kd2,Kxe7,Qg5+,f6,Nd5+,Ke6,Nxf6+,Kd6,Nf3,Qxh1,Qxe5+,Kc6,Qd5+,Kb6,d4,Ka7,Qxc5+,b6,Qc7+,Bb7,Nd5,Nc6,Qxb6+,Kb8,Qc7+,Ka7,Bxa6,Rab8', 'Qb6+,Ka8,Nc7#', 'https://lichess.org/training/n7zJi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7ZU2', 'Rapid', 'p9738', 1907, 'drcgiri09', 1804, 'f4,Nc6,Nf3,e6,e3,b6,c3,Bb7,d4,Nf6,Bd3,Be7,Nbd2,Ng4,Qe2,O-O,g3,f5,h3,Nf6,Nc4,d5,Nce5,Nxe5,Nxe5,Bd6,Bd2,Bxe5,fxe5,Ne4,Rg1,c5,Qg2,c4,Bc2,b5,O-O-O,a5,g4,f4,exf4,b4,f5,bxc3,Bxc3,a4,f6,gxf6,exf6,Rxf6,Bxe4,dxe4,a3,Rb8,Rde1,Qb6,g5,Rf3,Qh2,Bd5,Rg3,Rbf8,Rxf3,exf3,Qf2,Qd8,Rg1,Qd6,g6,h6,Rg4,Kg7,h4,Qe7', 'Bb4,Qc7,Bxf8+', 'https://lichess.org/training/n7ZU2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n7zZr', 'Blitz', 'Ricky2000', 1597, 'capablanca-n', 1641, 'g3,d5,Bg2,Nf6,d4,Bf5,Nd2,e6,c4,Nc6,c5,b6,e3,Be7,cxb6,axb6,Ngf3,Bg4,h3,Bh5,Qc2,Bg6,Qxc6+,Kf8,b4,Bxb4,a3,Ba5,O-O,h6,Nb3,Kg8,Nxa5,Rxa5,Bd2,Ra8,a4,Kh7,a5,bxa5,Rxa5,Rb8,Rc1,Ne4,Be1,Rb2,Ne5,Nxf2,Bxf2,Rxf2,Kxf2,Qf6+,Bf3,Rb8,Nxg6,Qxg6,Bxd5,Rb2+,Kf1,Qf5+,Bf3,Qxh3+,Ke1', 'Qxg3+,Kd1,Qg1#', 'https://lichess.org/training/n7zZr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n824h', 'Rapid', 'selocan1203', 1751, 'Benitonzolo', 1751, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,Nbd7,Nf3,b6,Bb5,Bb7,Qe2,a6,Ba4,b5,Bb3,h6,Bf4,e6,O-O,Be7,Rfd1,O-O,e5,dxe5,dxe5,Nh5,Be3,b4,Na4,Qc7,Rac1,Qb8,Rxd7,Re8,Qd3,Bxf3,gxf3,Qxe5,Bc2,Nf6,Bd4', 'Qg5+,Kh1,Qxc1+', 'https://lichess.org/training/n824h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N842V', 'Rapid', 'Baloo_the_bear', 1960, 'flstuhlmann', 1945, 'd4,d5,Bf4,Nf6,e3,c5,c3,Nc6,Nf3,Qb6,Qc2,Bf5,Qb3,c4,Qxb6,axb6,b3,cxb3,Nbd2,bxa2,Bb5,e6,O-O,Nh5,Bc7,Be7,Ne5,O-O,Nd7,Rac8,Bxb6,Bd8,Bc5,Re8,Rxa2,Nf6,Nxf6+,Bxf6,Nf3,e5,dxe5,Nxe5,Bd4,Re7,Nxe5,Bxe5,h3,Bd6,Ra7,h6,Rfa1,Kh7,Be2,Rc6,Bf3,Bc5,Bxd5,Bxa7,Bxc6', 'Bxd4,cxd4,bxc6', 'https://lichess.org/training/N842V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N84si', 'Rapid', 'ruufseir', 1884, 'jamasp', 1798, 'e4,c5,c3,e6,d4,cxd4,cxd4,d5,e5,Ne7,Nc3,Nec6,Nf3,Be7,Bd3,O-O,Be3,f6,Rc1,fxe5,dxe5,a6,Qe2,Nd7,Bd4,b5,O-O,Bb7,Bb1,Rxf3,Qxf3,Nxd4,Qd3,Nf5,g4,Nxe5,Qh3,Nh4,f4,Bc5+,Kh1,d4+,Ne4,Qd5,fxe5,Qxe4+', 'Bxe4,Bxe4+,Kg1', 'https://lichess.org/training/N84si');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n86J2', 'Blitz', 'CM WODAN77', 2331, 'FM RubinsteinsMonster', 2267, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,g4,Bg6,Nge2,c5,h4,h5,Nf4,Bh7,Nxh5,Nc6,Bb5,Qc7,f4,O-O-O,Bxc6,Qxc6,Be3,cxd4,Bxd4,Bc5,Qd2,Be4,Rh3,g6,Ng3,Bf3,g5,Bg4,Rh2,Ne7,Nce2,Kb8,O-O-O,Rc8,c3,Qa4,Kb1,Nf5,Nxf5,Bxf5+,Ka1,Bc2,Re1,Rc6,Bxc5,Rxc5,Nd4', 'Qxa2+,Kxa2,Ra5#', 'https://lichess.org/training/n86J2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N88eV', 'Blitz', 'Widriver', 2126, 'Nikitagrand', 1887, 'f4,d5,Nf3,c5,e3,Nc6,Be2,Nf6,O-O,Bg4,h3,Bd7,d4,e6,c3,Be7,Nbd2,O-O,Bd3,Rc8,Ne5,c4,Bc2,b5,Ndf3,b4,Nxd7,Nxd7,Ne5,bxc3,bxc3,Ndxe5,fxe5,f6,Qg4,fxe5,Qxe6+,Kh8,Rxf8+,Qxf8,Qxd5,exd4,exd4,Bh4,Qf3,Qe7,Bd2,Rf8,Qxc6,Qe2,Rd1,Bg3,Qe4', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/N88eV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N8agD', 'Rapid', 'Boomslice', 963, 'ShahbazSharif', 798, 'e4,e5,f4,Bb4,fxe5', 'Qh4+,g3,Qxe4+,Qe2,Qxh1', 'https://lichess.org/training/N8agD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n8CJR', 'Blitz', 'unicorn191', 1531, 'foreverbeginner558', 1575, 'd4,Nf6,Bf4,e6,e3,d5,c4,Nbd7,cxd5,exd5,Nc3,Bb4,Ne2,Ne4,f3,Nxc3,Nxc3,c6,Qd2,O-O,O-O-O,Qa5,Kb1,Nb6,Qc2,Bxc3,Qxc3,Qxc3,bxc3,Na4,Rc1,Bf5+,Ka1,b5,g4,Bg6,h4,h6,h5,Bh7,g5,hxg5,Bxg5,a5,f4,Rfe8,h6,gxh6,Bxh6,Rxe3,Rg1+,Kh8,Bg7+,Kg8,Bh6+,Bg6,f5,Kh7,Bxe3,Bxf5,Be2,b4,Rh1+,Kg7,Bh6+,Kf6,cxb4,axb4,Rxc6+,Ke7,Bf4,b3,Rc7+,Kf6,Rh6+,Kg7,a3', 'b2+,Ka2,b1=Q#', 'https://lichess.org/training/n8CJR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N8JIm', 'Rapid', 'azlanazmi', 1807, 'brianw', 1645, 'd4,e6,c4,a6,Nc3,c5,Nf3,Nc6,d5,Na7,dxe6,fxe6,Bf4,Nf6,e3,Be7,Bd3,O-O,O-O,Ng4,Qc2,Nf6,Rad1,d5,cxd5,exd5,Be4,Nxe4,Nxe4,Bf5,Qb3,Bxe4,Ng5,Bxg5,Bxg5,Qxg5,f3,Bxf3,Rxf3,Rxf3,Kh1,Rxe3,Qxb7,Rae8,Rf1,Re2', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/N8JIm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n8JMG', 'Blitz', 'SainTmaN', 1607, 'AIzbiakov', 1654, 'e4,c5,Bc4,e6,Nc3,Nc6,a3,a6,d3,b5,Ba2,Bb7,Nf3,Be7,Be3,Qc7,Qd2,Nf6,O-O-O,b4,Nb1,a5,a4,d5,exd5,exd5,Bf4,Qd7,Rde1,O-O,Bg5,c4,dxc4,Nd8,Ne5,Qxa4,cxd5,Qxa2,d6,Ne4,dxe7,Nxd2,exf8=Q+,Kxf8', 'Nd7+,Kg8,Re8#', 'https://lichess.org/training/n8JMG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n8kRH', 'Rapid', 'Kekkops', 1714, 'CryHome', 1829, 'e4,e6,c4,d6,d4,Nd7,Nc3,Ne7,Nf3,h6,e5,a6,exd6,cxd6,c5,d5,Qa4,Nc6,Bb5,Qa5', 'Bxc6,Qxa4,Bxa4', 'https://lichess.org/training/n8kRH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N8Ljg', 'Rapid', 'RiadCHess', 1618, 'tpalacio', 1660, 'e4,e5,Nf3,Nc6,Bc4,Nf6,c3,Bc5,d4,Bb6,Bg5,d6,Bb5,Bd7,Bxc6,Bxc6,d5,Bb5,Nbd2,Bd7,O-O,O-O,b4,c6,c4,cxd5,cxd5,Rc8,Rc1,a6,Nc4,Bc7,Qd2,Nxe4,Qe3,Nxg5,Nxg5,Qf6,Ne4,Qg6,f4,Bf5,Ng3,Bd3', 'f5,Qg4,Qxd3', 'https://lichess.org/training/N8Ljg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N8o5Y', 'Rapid', 'Nekedisjo', 1975, 'Caryakin', 1745, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,f3,d6,Be3,b6,Nge2,c5,h4,Nc6,Qd2,Ba6,b3,e5,d5,Nd4,O-O-O,Rb8,Bh6,b5,cxb5,Bxb5,Bxg7,Kxg7,h5,Nxe2+,Nxe2,c4,hxg6,fxg6,Nc3,cxb3,Bxb5,b2+,Kxb2,a6,a4,axb5,Nxb5,Qb6,Rh2,Rf7,g4,Kf8,Rc1,Qd4+,Qxd4,exd4,Rd2,Nd7,Rc7,Ke8,Rd3,Nc5,Kc2,Nxd3', 'Nxd6+,Kd8,Rxf7', 'https://lichess.org/training/N8o5Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n8pij', 'Blitz', 'MOGREIN', 2166, 'CM ziriguidum', 2210, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,cxd4,Qxd4,Nc6,Qg4,Bxc3+,bxc3,Nxe5,Bb5+,Kf8,Qg3,Ng6,h4,h6,h5,N6e7,Bb2,Nf6,Nf3,Qb6,a4,a6,O-O,axb5,axb5,Rxa1,Rxa1,Nf5,Qh3,Ne4,Nd4,Kg8,Nxf5,exf5,c4,Nxf2,Qb3,Nd3+,Kh1,dxc4,Qxc4,Nxb2', 'Qxc8+,Kh7,Qxf5+,Qg6,hxg6+', 'https://lichess.org/training/n8pij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n8sFo', 'Rapid', 'RSdC', 1801, 'lorgum', 1769, 'e4,c5,Nf3,d6,Bb5+,Nd7,c4,e6,O-O,Nf6,e5,dxe5,Nxe5,Be7,Re1,O-O,d4,a6,Bxd7,Nxd7,d5,Nxe5,Rxe5,exd5,Rxd5,Qc7,g3,Be6,Bf4,Qc6,Rh5,Rad8,Qc2,g6,Re5,Bd6,Re4,Bf5,Nc3,Bxf4,gxf4,Rd4,f3,Rxc4,Qb3,Rxe4,fxe4,Bxe4,Re1,Bf5,Nd5,Re8', 'Rxe8+,Qxe8,Nf6+,Kf8,Nxe8', 'https://lichess.org/training/n8sFo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n8sXi', 'Blitz', 'chessblitzsky', 1714, 'Mr_WebLife', 1707, 'e3,e6,c4,f5,d4,c6,Nc3,d5,Nf3,Nf6,Ne5,Nbd7,f4,Be7,Bd2,O-O,h3,Nxe5,dxe5,Ne4,Nxe4,dxe4,g4', 'Bh4+,Ke2,Qd3#', 'https://lichess.org/training/n8sXi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n8tY8', 'Rapid', 'Anti-you_69', 1637, 'mutturaj', 1631, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qf5,f3,e6,e4,Qa5,Bd2,Bb4,a3,Bxc3,Bxc3,Qb6,Bd3,O-O,Qc2,Nc6,Ne2,Bd7,e5,Nd5,Bxh7+,Kh8,Bd3,Nxc3,Nxc3,Nxd4,Qf2,Nf5,Qd2,Rad8,O-O-O,a6,Rhe1,Bb5,Nxb5,axb5,g4,Nh6,g5,Nf5,Qg2,Kg8,g6,Nh4,gxf7+,Rxf7,Qg4,Nf5,Qg5,Rff8,Bxf5,Rxd1+,Rxd1,Rxf5,Rd8+,Rf8,Rd7', 'Qc6+,Kb1,Qxd7', 'https://lichess.org/training/n8tY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n8Xkh', 'Rapid', 'Frateddy', 1713, 'Spade7', 1716, 'e4,e5,Nf3,Nc6,Bc4,f5,exf5,Nf6,O-O,d5,Bb5,Bxf5,Bxc6+,bxc6,Nxe5,Qd6,Re1,Be7,d4,O-O,c3,Ne4,f3,Nf6,Qe2,Rae8,Bg5,Nh5,Bxe7,Rxe7,g4,Nf4,Qe3,Bxb1,Raxb1,c5,Kf2,Nh3+,Kg3,Nf4,dxc5,Qh6,h4,g5,h5,Rfe8,Qd4,c6,Nd3,Nxd3', 'Rxe7,Rxe7,Qxd3', 'https://lichess.org/training/n8Xkh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n8y3H', 'Rapid', 'MChabot', 1896, 'sergiodone', 1884, 'd4,Nf6,c4,c5,e3,g6,Nf3,Bg7,Be2,Nc6,a3,cxd4,exd4,O-O,O-O,d5,c5,Bf5,b4,a6,Bb2,e6,Nbd2,Bg4,Qc2,Bf5,Bd3,Ne4,Nxe4,dxe4,Bxe4,Bg4,Bxc6,bxc6,Qe4,Bxf3,Qxf3,Bxd4,Bxd4,Qxd4,Qxc6,Rfc8,Qf3,a5,Rfd1,Qe5,Rab1,axb4,axb4,Rab8,Re1,Qd4,Qe4,Qc3,g3,h5,Rec1,Qf6,b5,Qg5,Qe1,Rxc5,Rxc5,Qxc5,Qb4,Qb6,Qc4,Qd6,Qb4,Qb6,Qc4,Rd8,Qc6,Qa5,b6,Qa2,Rf1,Qb2,b7,Qe5,Qc8,Qb8,Qxb8,Rxb8,Rb1,Kf8,f4,Ke7,Kf2,Kd7,Ke3,Kc7,Kd4,Rxb7', 'Rxb7+,Kxb7,Ke5,Kc6,Kf6', 'https://lichess.org/training/n8y3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n8yJC', 'Blitz', 'saimanow', 2038, 'svetal', 2014, 'd4,d5,c4,e6,Nf3,c6,e3,a6,Nc3,Be7,Bd3,f5,O-O,Nf6,Nd2,O-O,f3,Nbd7,cxd5,cxd5,a3,b5,b4,Nb6,e4,fxe4,fxe4,dxe4,Ndxe4,Qxd4+,Kh1,Nxe4,Rxf8+,Bxf8,Bxe4,Qxd1+,Nxd1,Nd5,Bb2,Bb7,Nc3,Rc8,Nxd5,exd5,Bf5,Rc4,Be6+,Kh8,Rf1,Bd6,Rf7,Rc7', 'Bxg7+,Kg8,Rxc7#', 'https://lichess.org/training/n8yJC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N8YQW', 'Rapid', 'TAPAC-ko', 1768, 'aryaaparikh', 1775, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qe7,Nxc6,bxc6,Bg5,h6,Bh4,g5,Bg3,Nxe4,Nxe4,Qxe4+,Qe2,Qxe2+,Bxe2,d6,O-O,f5,h3,h5,Rfe1,Kd8,Rad1,f4,Bh2,Bf5,c3,Kd7,b4,Bb6,c4,c5,Bf3,Rag8,Bd5,Rf8,b5,Ba5,Bc6+,Kd8,Re5,Bc3,Red5,Bd4,h4,gxh4,Bxf4,Be4,Bg5+,Kc8,R5xd4,Bxc6,Rxh4,Bd7,Be7,Rf7,Bg5,Bg4,f3,Be6,Re1,Kd7,Rhe4,Re8,Kf2,Rff8,a4,Bf7', 'Re7+,Rxe7,Rxe7+', 'https://lichess.org/training/N8YQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N91mb', 'Bullet', 'olubig1', 1769, 'JamersonSouza', 1719, 'd4,g6,e3,Bg7,f4,d6,Nf3,Nd7,Bd3,e5,c3,exd4,exd4,Ngf6,O-O,O-O,Ng5,c5,Qe1,cxd4,cxd4,Nb6,Qh4,h6,Nf3,Nbd5,a3,Nh5,g3,Qxh4,Nxh4,Bxd4+,Kg2,Re8,f5,Kg7,fxg6,fxg6,Bxg6,Re2+,Kh1,Nhf6,Nc3,Bh3,Rxf6', 'Re1+,Rf1,Rxf1#', 'https://lichess.org/training/N91mb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n92UQ', 'Blitz', 'FM Zeeuwke', 2095, 'Leusie', 1916, 'd4,d5,Nf3,Nf6,c4,dxc4,e3,e6,Bxc4,Be7,O-O,O-O,Nc3,Nbd7,e4,c5,d5,exd5,exd5,Nb6,Qd3,Bd6,Bg5,Bg4,Bxf6,Qxf6,Ne4,Qd8,Nfd2,f5,Nxd6,Qxd6,Rfe1,Rae8,a3,Bh5,Rxe8,Rxe8,Qxf5,Bg6,Qf3,Nxc4,Nxc4,Qa6,Ne3,Qd3,h3,Be4,Qh5,g6,Qg5,Qb3,d6,Bc6,Rd1,Rxe3,Rd2,Re1+,Kh2,Qe6,Qd8+,Kg7,Qc7+,Bd7,Qxb7,Qe5+,g3,Qe6,Qg2,Kh6,h4,Re5,Rd1,Qg4,Rd2,g5,hxg5+,Rxg5,Kg1,Re5,Qf1,Bc6,d7,Qf3,Qh3+,Rh5,d8=Q', 'Qh1+,Qxh1,Rxh1#', 'https://lichess.org/training/n92UQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N930K', 'Blitz', 'poper69', 1765, 'mbechara', 1763, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nc3,e5,Nf3,e4,Qe2,Bf5,Nh4,Bg4,f3,Bh5,Nxe4,Nxe4,Qxe4+,Be7,Bd3,Nb4,Bb1,Bg6,Nxg6,hxg6,a3,f5,Qe6,Nd3+,Ke2,Nc5,Qxg6+,Kd7,Qxf5+,Kc7,Qe5+,Bd6,Qxg7+,Kb6,d4,Re8+,Kf2,a5,dxc5+,Bxc5+,Kg3,Rg8,Qxg8,Qxg8+,Kh3,Qh8+,Kg3,Rg8+,Kf4,Qf6+,Bf5,Rf8,g4,Qd4+,Kg3,Bd6+,Kg2,Re8,Bg5,Re2+,Kh3,Qf2,Raf1,Qg2+,Kh4', 'Qxh2+,Rxh2,Rxh2#', 'https://lichess.org/training/N930K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N93Zh', 'Blitz', 'FM Sentidocomon', 2388, 'ElMedikkein', 2340, 'd4,g6,e4,Bg7,c4,d6,Nc3,Nd7,Nf3,e5,dxe5,Nxe5,Be2,Ne7,Be3,O-O,Qd2,Be6,b3,N7c6,Rc1,Nxf3+,Bxf3,Ne5,Be2,Ng4,Bxg4,Bxg4,Bd4,Re8,Bxg7,Kxg7,O-O,Qh4,Nd5,Rac8,Qd4+,f6,f3,c5,Qd2,Be6,Nf4,Rcd8,Rcd1,Qg5,Nxe6+,Rxe6,Qxg5,fxg5,Rd5,Kf6,Rfd1,h6,Rxc5,dxc5,Rxd8,Ra6,a4,Rb6,Rd3,Ke5,Kf2,h5,Ke3,h4,Kd2,Kf4,Kc3,g4,fxg4,Kxe4,Rd7,Kf4,h3,Kg3,Rd2,Rf6,Rd7,Rb6,Rd2,Rf6,Rd7,Kxg2,Rxb7,Kxh3,Rxa7,Kxg4,Rh7,Rf3+,Kb2,Rf5,a5,h3,a6,Rf6,a7,Ra6,b4,cxb4,Kb3,Kg3,Kxb4,h2,Kb5', 'Rxa7,Rxa7,h1=Q', 'https://lichess.org/training/N93Zh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N9b5c', 'Classical', 'YaBishOP', 1778, 'Alieck', 1792, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ng5,h6,Qxg4,hxg5,d4,d5,Qe2,Qe7,Qb5+,c6,Qb3,Qxe4+,Kd1,Bg4+,Kd2,Na6,Bxa6,bxa6,Re1,Nf6,Rxe4+,Nxe4+,Ke1,Bd6,Nd2,Rb8,Qa4,Rxh4,Nxe4,dxe4,Qxc6+,Ke7,Qxe4+,Kf8,Kf2,Re8,Qc6,Re2+,Kg1,Re1+,Kf2,Re2+,Kg1,Be7,a4,f3,gxf3,Bh3,f4,Rg4+,Kh1,Bf1,Qc8+,Kg7,Qxg4,Rxc2,fxg5,Bd6,Bf4,Be2,Qg2,Bxf4,Re1,Rxb2,Rxe2,Rb1+,Qg1,Rxg1+,Kxg1,Kg6,Rg2,Bxg5,Kf2,Kf5,Kf3,f6,d5,Ke5,Ke2,Kxd5,Kd3,Kc5,Kc3,a5,Kb3,Kd4,Rg4+,Kd3,Rc4,Bd2,Rc5,Bb4,Rf5,Bc3', 'Rf3+,Ke2,Rxc3', 'https://lichess.org/training/N9b5c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n9B5U', 'Blitz', 'Aryan_Vijay_2003', 1732, 'Sid_trip', 1734, 'd4,Nf6,c4,d5,Nc3,g6,cxd5,Bg7,e4,O-O,Nf3,c6,dxc6,Nxc6,Bb5,a6,Be2,Nb4,O-O,Bg4,a3,Nc6,Bg5,Qb6,Qd2,Rad8,e5,Nd5,Nxd5,Rxd5,Bxe7,Re8,Bc5,Rxc5,dxc5,Qxc5,Rac1,Qe7,Bc4,Bxf3,gxf3,Qxe5,Rfe1,Qb8,Qd3,Bxb2,Rxe8+,Qxe8,Rf1,Ne5,Qb3,Nxc4,Qxc4,Bxa3,Qb3,Qe7,f4,Bc5,Kg2,b6,Rd1,Qe4+,Qf3,Qf5,Rd8+,Kg7,Qc3+,Kh6,Rd3,g5,Rh3+,Kg6,fxg5', 'Qxf2+,Kh1,Qf1#', 'https://lichess.org/training/n9B5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N9bgC', 'Rapid', 'verheijrene2', 1608, 'abias', 1603, 'e4,e5,Nf3,d6,Nc3,Be6,d3,Nc6,Be3,Nf6,g3,Ng4,Bg2,Nxe3,fxe3,Bg4,O-O,f6,Nd5,Ne7,Nxe7,Qxe7,d4,O-O-O,dxe5,dxe5,Qe1,Bxf3,Bxf3,h5,Rd1,Rxd1,Qxd1,Qd8,Qe2,a6,Rd1,Qe8,Qc4,g5,g4,h4,h3,Rh7,Qg8,Rd7,Qh8,Rxd1+,Bxd1,Qf7,Kf2,Kd7,Ke2,b5,c3,c5,b4,Qxa2+,Ke1,Qf7,bxc5,Bxc5,Qa8,Ke7', 'Qb7+,Kf8,Qc8+,Kg7,Qxc5', 'https://lichess.org/training/N9bgC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N9bNe', 'Rapid', 'shay_b30', 1823, 'matejstahl', 1819, 'e4,e5,Nf3,Nf6,Bc4,Nc6,Ng5,d5,exd5,Nxd5,Qf3,Nce7,Qxf7+,Kd7,Bxd5,c6,Qe6+,Kc7,Qxe5+,Kb6,Qd4+,c5,Qf4,Nxd5,Qf3,Qxg5,O-O,Bd6,d4,Nf4,dxc5+,Kxc5,b4+,Kb6,Be3+,Kc7,g3,Bg4,Bxf4,Bxf4,Qxf4+,Qxf4,gxf4,Rhf8,Nd2,Rxf4,c4,Raf8,Rae1,Bh3,Re7+,Kb8,Rfe1,Rxf2,Re8+,Rxe8', 'Rxe8+,Kc7,Kxf2', 'https://lichess.org/training/N9bNe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N9ESn', 'Blitz', 'ambrosiano', 1976, 'Motyaprekrasen', 1955, 'e4,c5,Nf3,d6,Bb5+,Bd7,Qe2,Nc6,Nc3,g6,Bxc6,Bxc6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,O-O,Nf6,e5,Nd5,Nxd5,cxd5,Qb5+,Qd7,Qxd5,O-O,Re1,Qf5,f4,dxe5,fxe5,Qxc2,Bg5,e6,Qd4,Rfd8,Bxd8,Rb8,Rac1,Qf5,Bf6,Bh6,Rcd1,Qc2,Qxa7,Rxb2,Qa8+,Bf8,Rd8', 'Qf2+,Kh1,Qxe1#', 'https://lichess.org/training/N9ESn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n9G04', 'Rapid', 'marcelo3', 1908, 'shep_dj', 1930, 'e4,c5,Nf3,e6,Nc3,a6,d3,Qc7,Bd2,Bd6,Ne2,Nf6,Ng3,Ng4,Be2,Nc6,c3,h5,Bg5,b5,Qd2,Bb7,Bh4,Bf4,Qc2,f6,h3,g5,Bxg5,fxg5,hxg4,Bxg3,fxg3,Qxg3+,Kd2,Qf4+,Kd1,Qxg4,Ne5,Qxg2', 'Bxh5+,Rxh5,Qxg2,Rxh1+,Qxh1', 'https://lichess.org/training/n9G04');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n9gdc', 'Rapid', 'halheinrich', 2032, 'Jacopo-90', 1730, 'b3,Nf6,Bb2,d5,e3,e6,Nf3,Bd6,c4,Nbd7,d4,b6,cxd5,exd5,Nc3,Bb7,Bd3,O-O,O-O,Re8,Rc1,a6,h3,Ne4,Nd2,g6,Ndxe4,dxe4,Bc4,b5,Be2,Qg5,Re1,Rad8,Bf1,c5,dxc5,Nxc5,Qg4,Qe5,g3,Bc8,Qf4,Qh5,Qh4,Qxh4,gxh4,Bf8,Red1,Bf5,Ne2,Nd3,Rc2,Nxb2,Rxd8,Rxd8,Rxb2,Rd1,Kg2,Bxh3+,Kxh3,Rxf1,Kg2,Rd1,Rc2,Rd6,Ng3,f5,Ne2,Be7,Kg3,Bd8,a4,bxa4,bxa4,Kf7,Rb2,Bb6,Nf4,Kf6', 'Rxb6,Rxb6,Nd5+,Ke5,Nxb6', 'https://lichess.org/training/n9gdc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n9Hwo', 'Rapid', 'NastyaSh', 1944, 'Vaios', 1944, 'd4,Nf6,Bf4,d6,e3,g6,Nf3,Bg7,c4,Nbd7,Be2,c5,O-O,O-O,Nc3,b6,h3,Bb7,Qc2,Rc8,Qb3,Ne8,Rfd1,Nc7,d5,Ne8,e4,Nef6,Bh2,Ne8,Nb5,a6,Nc3,f5,exf5,Rxf5,Nh4,Rf8,Bg4,Nef6,Be6+,Kh8,Re1,Rc7,Re3,Ng8,Rae1,Ne5,Bxe5,Bxe5,Nf3,Bg7,Qxb6,Nf6,Qb3,Nd7,Bg4,Ne5,Nxe5,Bxe5,Be6,Bf6,Qc2,Kg7,Ne4,Be5,Bg4,Bc8,Bxc8,Qxc8,Ng5,Rf6,Ne6+,Rxe6,dxe6,Bf6,Rb3,Qf8,Rb6,Bd4,Rxa6,Rb7,b3,Qc8,Qe4,Rxb3,Rc6,Qf8,Qc2', 'Rb2,Qxb2,Bxb2', 'https://lichess.org/training/n9Hwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N9ipa', 'Blitz', 'bretasker', 1538, 'achja', 2275, 'e4,c6,d4,d6,Nf3,Nd7,c4,e5,d5,Ngf6,Bd3,Be7,O-O,O-O,Re1,a5,Bg5,Re8,Nh4,Nc5,f4,exf4,Bxf4,Nxd5,exd5,Bxh4,Rxe8+,Qxe8,Bxd6,Nxd3,Qxd3,Qe1+,Qf1', 'Bf2+,Kh1,Qxf1#', 'https://lichess.org/training/N9ipa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n9jzc', 'Rapid', 'kashikoman', 1654, 'googlebookchin', 1616, 'e4,c6,Nf3,d5,Nc3,Bg4,d3,e6,Be2,Bd6,Bg5,Nf6,O-O,h6,Bxf6,Qxf6', 'e5,Bxe5,Nxe5,Qxe5,Bxg4', 'https://lichess.org/training/n9jzc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N9LNC', 'Blitz', 'LM Lance5500', 2566, 'NM zanbato', 2287, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Bf5,Bc4,e6,Bd2,Nf6,Nd5,Qd8,Nxf6+,gxf6,O-O,Nd7,c3,Qc7,g3,O-O-O,Bf4,Bd6,Bxd6,Qxd6,Nh4,Bg6,b4,f5,f4,Nf6,Qe2,Nd5,Rac1,Nf6,Bd3,Bh5,Qb2,Ng4,Qe2,Nf6,Qe1,Bg4,a4,Bh3,Rf2,Qd5,Bf1,Bxf1,Qxf1,Ng4,Re2,Qc4,Rd2,Qxf1+,Kxf1,Rhg8,Re1,Nf6,Nf3,Ne4,Rc2,Rg7,Nd2,Nxd2+,Rxd2,Kc7,Re5,h5,c4,h4,Rd3,hxg3,hxg3,Rh7,d5,Rh1+,Kg2,Rc1,Rd4,b6,Kf3,c5,bxc5,bxc5,d6+,Rxd6,Rxc5+,Rc6,Ra5,Kb6,Rb5+,Ka6,Rd7,Rc3+,Kg2,R3xc4,Rbb7,Ka5,Rxa7+,Ra6,Rxa6+,Kxa6,Rxf7,Rxa4,Rf6,Re4,Kf3,Kb5,g4,Kc5', 'gxf5,exf5,Rxf5+', 'https://lichess.org/training/N9LNC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N9oej', 'Rapid', 'KingIbekwe', 1892, 'Priceless-123', 1780, 'Nf3,d5,g3,c5,Bg2,Nc6,O-O,e5,d3,Be7,Nbd2,Nf6,e4,O-O,exd5,Nxd5,Re1,f6,Nc4,Be6,Ne3,Qd7,Nxd5,Bxd5,Nd2,Rad8,Qe2,Bxg2,Kxg2,Nd4,Qd1,f5,Rxe5,Bd6,Re1,f4,c3,f3+,Nxf3,Nxf3,Re4,Qf5,Be3,Ng5,Bxg5,Qxg5,Qb3+,Rf7,Rae1,Qf5,Re8+,Rxe8,Rxe8+,Bf8,f4,g5,Re5,Qxd3,Rxg5+,Bg7,Qe6,Qd2+,Kf1,Qxb2,Qe8+,Rf8,Qe6+,Kh8,Qe7,Qxc3,Qxb7,Qc1+,Kg2,Qc2+,Kh3,Rg8,Qxa7,c4,f5,h6,Rh5,Qc3,a4,Qf6,a5,c3,a6,c2,Qc7,Qc3', 'Rxh6+,Bxh6,Qxc3+', 'https://lichess.org/training/N9oej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N9Pil', 'Bullet', 'FM Schemato', 2155, 'Dgita35492', 2288, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,e4,c6,e5,Ne8,d4,d6,exd6,Nxd6,h3,Nxc4,Nge2,Nd7,O-O,Ndb6,b3,Nd6,Bb2,Nf5,Ne4,Nd5,Rc1,Nd6,Nc5,b6,Nd3,Bb7,Ne5,Rc8,Nc3,e6,Qd2,c5,Nxd5,exd5,dxc5,Rxc5,Rxc5,bxc5,Bxd5,Ne4', 'Bxf7+,Rxf7,Qxd8+', 'https://lichess.org/training/N9Pil');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N9rRG', 'Rapid', 'aztutzi', 1968, 'AtharvaLmao', 1955, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,N1e2,e6,Nf4,Bh7,Bd3,Bxd3,Qxd3,Nf6,Be3,Nbd7,Nfh5,Nxh5,Nxh5,Nf6,Nxf6+,Qxf6,O-O-O,O-O-O,Qb3,Bd6,d5,cxd5,Bxa7,Bb8,Bd4,Be5,Qc3+,Kd7,Bxe5,Qxf2,Qc7+,Ke8,Rhf1,Qe3+,Kb1,Rd7,Qc8+,Rd8,Qxb7,Rd7,Rde1', 'Qxe1+,Rxe1,Rxb7', 'https://lichess.org/training/N9rRG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n9SBC', 'Blitz', 'GOJLAG', 1622, 'Cocacolo101', 1602, 'e4,e5,d4,Nc6,dxe5,Nxe5,Nf3,d6,Nxe5,dxe5,Qxd8+,Kxd8,Nc3,Bd6,Bc4,Ke7,f4,exf4,Bxf4,Bxf4,O-O,Be5,Rxf7+,Kd6,Rd1+,Kc6,Bd5+,Kb6,Na4+,Kb5,b3,c6,Bc4+,Kb4,c3+,Ka3,Nc5,b5,Nd3,Bxc3,Rc1,Bd4+,Nf2,bxc4,Rxc4,Bxf2+', 'Rxf2,c5,Ra4#', 'https://lichess.org/training/n9SBC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n9Sxh', 'Blitz', 'Angelodoxadrez', 1793, 'l888l', 1836, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Nc3,d5,exd5,Qe7+,Ne2,Bg4,O-O,Nd7,d6,cxd6,Re1,Ngf6,Qb3,Bc5,Nd4,Ne5,Nd5,Nxd5,Bxd5,O-O,Qxb7,Qg5,Qb3,Bh3,Qxh3,Nd3,Bxa8,Nxb2,Be4,Bxd4,Rab1,f5,Bd5+,Kh8,Rxb2,Bxb2,Qe3,f4,Qe2,Be5,Bf3,g6,h3,h5,a4,Rb8,a5,Rb2,Qe4,Kg7,Qb7+,Kh6,Qxa7,Qh4,Re2,Rb1+,Kh2', 'Qg3+,fxg3,fxg3#', 'https://lichess.org/training/n9Sxh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N9U0b', 'Classical', 'xadrez_maicom', 1672, 'scheuge63', 1750, 'b3,e5,Bb2,Nc6,e4,Nf6,Qf3,d6,Nc3,Nd4,Qd3,a6,Nd5,Nc6,Nxf6+,Qxf6,f3,Be7,O-O-O,O-O,g4,Nb4,Qc4,c5,a3,Nc6,Bc3,Be6,Qe2,Bd8,Nh3,Nd4,Bxd4,cxd4,c3,Bxb3,cxd4,Bxd1,Qxd1,Rc8+,Kb1,exd4,g5,Qe6,d3,d5,Bg2,dxe4,dxe4,Qb6+,Ka1,Qc5,Qb3,Qc3+,Qxc3,dxc3,Rc1,Re8,f4,Rc5,e5,b6,Nf2,f6,Ne4,Rd5', 'Nxf6+,gxf6,Bxd5+', 'https://lichess.org/training/N9U0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n9wCc', 'Rapid', 'EgorZh17', 1542, 'pedro-nlb', 1536, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,a5,Nbd2,d6,d4,exd4,cxd4,Bb4,d5,Ne5,Bb5+,Bd7,Bxd7+,Qxd7,Nxe5,dxe5,Qe2,c6,dxc6,Qxc6,f3,O-O,O-O,Rac8,Nb3,b6,a3,Be7,Be3,Nh5,Rac1,Qg6,Rxc8,Rxc8,Kh1,a4,Nd2,Bc5,Qa6', 'Ng3+,hxg3,Qh5+,Kg1,Bxe3+', 'https://lichess.org/training/n9wCc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('N9wyN', 'Rapid', 'Niktw', 1601, 'Stigmey', 1612, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,b6,Nxc6,dxc6,Qxd8+,Kxd8,Rd1+,Ke8,Nb5,Be5,Bd4,cxb5,Bxe5,Nf6,Bxf6,exf6,Bxb5+,Kf8,Rd8+,Kg7,Rxh8,Kxh8,Bc6,Rb8,O-O,Be6,Bd5,Rc8,c4,Bxd5,cxd5,Kg8,Rd1,Kf8,f4,Ke7,e5,fxe5,fxe5,Rc2,d6+,Kd7,Kf1,Rxb2,Re1,Rxa2,Re2,Ra5,Kf2,f6', 'e6+,Kxd6,e7', 'https://lichess.org/training/N9wyN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('n9x6f', 'Classical', 'khalaf_20', 1897, 'LordSomesh', 1850, 'd4,d5,Bf4,Nf6,e3,e6,c3,Bd6,Bg3,O-O,Nf3,Nbd7,Bxd6,cxd6,Nbd2,b6,h3,Bb7,Bd3,e5,Nh2,e4,Bb5,Qe7,Qe2,Rae8,O-O,a6,Bxa6,Bxa6,Qxa6,Ra8,Qe2,Rfe8,a3,Nf8,Ng4,Nxg4,Qxg4,Qe6,Qxe6,fxe6,Rac1,Ng6,c4,Rf8,cxd5,exd5,Rc6,Rf6,Rxb6,Nh4,Rc1,Rg6,g3,Nf5,Kh1,Rf8,Rf1,Rh6,Kg2,g5,Rc6,g4,h4,Nxh4+,gxh4,Rxh4,Rxd6,Rf5,Rh1,Rxh1,Kxh1,Rxf2,Nb3,Rxb2,Nc5,h5,Rh6,g3,Rxh5,g2+,Kg1,Re2,Rg5+,Kf7,Rxg2,Rxe3,Rf2+,Ke7,Rf5,Kd6,Rf6+,Kc7,Rf7+,Kc6,Rf6+,Kb5,a4+,Kb4,Rb6+,Kc4,Rc6,Kxd4,Ne6+,Ke5,Ng7', 'Rg3+,Kf2,Rxg7', 'https://lichess.org/training/n9x6f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NA8gk', 'Rapid', 'V_ano', 1689, 'Sirhan06', 1680, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,Be7,O-O,O-O,Bg5,Bg4,h3,Bxf3,Qxf3,Nd4', 'Nf6+,Bxf6,Qxd5', 'https://lichess.org/training/NA8gk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nA8Zi', 'Rapid', 'dandarie', 1633, 'Mixaylo007', 1774, 'a3,Nf6,b4,d6,Bb2,g6,e3,Bg7,Nf3,a5,bxa5,O-O,Be2,c5,d3,Qxa5+,Nbd2,Nc6,O-O,Be6,c4,Rfd8,Nb3,Qc7,a4,b6,Bc3,d5,cxd5,Nxd5,Bxg7,Kxg7,d4', 'Nc3,Qc2,Nxe2+', 'https://lichess.org/training/nA8Zi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('naAi3', 'Rapid', 'Sharkfanatic', 1981, 'altoz', 1955, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bb5+,Nc6,Ne5,Qc7,Qf3,e6,c3,a6,Bxc6+,bxc6,Bf4,Bd6,O-O,Ne7,Nd2,O-O,Qg3,Ng6,Ndf3,Nxf4,Qxf4,f6,Qe3,fxe5,dxe5,Be7,Nd4,Bc5,Qe2,Qb6,Nxf5,Rxf5,b4,Be7,a4,Raf8,a5,Qa7,Ra2,c5,Rb2,cxb4,cxb4,Rb8,Rfb1,Rbf8,Rf1,Qd4,Rbb1,Rxe5,Qxa6,Bxb4,Qb7,Bc5,Rb2,Re1,Rxe1,Rxf2,Qc8+,Kf7,Rb7+,Kg6,Qxe6+', 'Rf6+,Kh1,Rxe6', 'https://lichess.org/training/naAi3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nABux', 'Blitz', 'FabioFognini', 1600, 'eurosaldi', 1593, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Kf1,Bc5,c3,Qf6,cxd4,Nxd4,Be3,Nxf3,Qxf3,Qxf3,gxf3,Bxe3,fxe3,Nf6,Rg1,O-O,Nc3,d6,f4,a6,e5,Ng4,Ke2,Nxh2,Rg2,Ng4,e6,Nf6,exf7+,Kh8,Rag1,Nh5,Ne4,b5,Bd5,Rb8,Rh1,c6,Rxh5,cxd5,Nf6,Rxf7', 'Rxh6+,gxh6,Rg8#', 'https://lichess.org/training/nABux');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAdBX', 'Blitz', 'GM mr_bh6', 2483, 'AlphaEchecs', 2653, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,O-O,c3,c5,Bxf6,Bxf6,Ne4,Bg7,Nxc5,d6,Nb3,a5,a4,Qb6,e3,e5,Bb5,Na6,O-O,Nc7,c4,Bg4,c5,dxc5,dxc5,Qe6,Be2,Rfd8,Nfd2,Bf5,Bc4,Qe7,Qe2,e4,Rab1,h5,Rfc1,Be5,Qe1,Ne8,Bf1,Nf6,g3,h4,Nc4,Bc7,Nd4,Bg4,Bg2,hxg3,fxg3,Nd5,Nb5,Nb4,Nxc7,Qxc7,Bxe4,Qxc5,Rc3,Rab8,Qf2,Qe7,Bg2,Bf5,e4,Be6,Rf1,Rd3,Ne3,Rbd8,Nd5,Qg5,Rxd3,Nxd3,Qb6,Rc8,Qd4,Bxd5,Qxd5', 'Qe3+,Kh1,Nf2+,Rxf2,Qxf2', 'https://lichess.org/training/nAdBX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NaDOx', 'Rapid', 'MILADBCH', 1740, 'axmed1938', 1724, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,c3,c6,Be2,Nf6,cxd4,Nxe4,d3,Nf6,Be3,Bb4+,Nd2,O-O,O-O,Nd5,a3,Nxe3,fxe3,Bxd2,Qxd2,d5,Rac1,Qh4,g3,Qg5,Rf2,Bg4,Bxg4,Qxg4,Rcf1,f6,Rf4,Qe6,e4,dxe4,dxe4,Rad8,Qb4,Qd7,e5,Rf7,Qb3,Kh8', 'e6,Qe7,exf7', 'https://lichess.org/training/NaDOx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('naEbg', 'Rapid', 'CheckedMatt', 1986, 'Vipos964', 2229, 'd4,Nf6,c4,c5,Nc3,e6,e3,d5,Nf3,Nc6,dxc5,Bxc5,cxd5,exd5,Nb5,Qa5+,Nc3,Bf5,Bd2,Qd8,Be2,O-O,O-O,Nb4,a3,Nd3,b4,Bd6,Qb3,Bc7,Nd4,Bg6,f4,Ne4,Nxe4,dxe4,f5,Qh4,g3,Bxg3,hxg3,Qxg3+,Kh1,Nf2+,Rxf2,Qxf2,fxg6,hxg6,Rf1,Qh4+,Kg2,Qg5+,Kf2,Rad8,Ke1', 'Qg3+,Kd1,Rxd4', 'https://lichess.org/training/naEbg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('naEQq', 'Rapid', 'Wowwhatamove', 1684, 'cikd_rainnn', 1662, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Bb5,Bd7,Nxc6,bxc6,Bc4,Nf6,O-O,Be7,Nc3,O-O,Re1,Ne8,Qf3,Bg5,Ne2,Be6,Bxe6,fxe6,Qg4,Bxc1,Qxe6+,Kh8,Raxc1,Qh4,g3,Qg5,Nf4,Rf6,Qd7,Rxf4,h4,Qg6,Qxc6,Rc8,e5,Rf8,Re2,dxe5,Qxg6,hxg6,Rxe5,Nd6,Rce1,Rf6,b3,Rcf8,R1e2,R8f7,a4,Nf5,c3,Nh6,Re8+,Kh7,Ra8,Ng4', 'Ree8,Rf8,Rxf8,Rxf8,Rxf8', 'https://lichess.org/training/naEQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NAFgZ', 'Rapid', 'Viktor_muziant', 2059, 'mohamadjavad1356', 2054, 'g3,Nf6,Bg2,d5,Nf3,g6,O-O,Bg7,d3,O-O,Nbd2,Nc6,Re1,e5,e4,dxe4,Nxe4,Nxe4,dxe4,Be6,c3,Qe7,Qc2,Bg4,h3,Be6,Ng5,Bc4,b3,Ba6,a4,Rad8,h4,h6,Ba3,Qf6,Bxf8,hxg5,Bxg7,Kxg7,hxg5,Qxg5,Qc1,Qh5,f3,Rd3,Re3,Rd6,Bf1,Qg5,Qe1,Bxf1,Kxf1,Rd8,Re2,Rh8,Rg2,Rh1+,Rg1,Rh2,Rd1,Qh5,Qe3,Qh3+,Ke1,Rb2,Rd2,Rb1+,Ke2', 'Qh2+,Qf2,Qxg1,Qxg1,Rxg1', 'https://lichess.org/training/NAFgZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NAfjS', 'Blitz', 'Mirthandir', 1564, 'fl1lehmann', 1544, 'Nf3,d5,Nc3,c5,e4,d4,Ne2,Nc6,c3,e5,cxd4,cxd4,Ng3,Bg4,Bb5,Bd6,b3,Ne7,Be2,O-O,h3,Bd7,O-O,f5,d3,f4,Nh1,Ng6,a4,Nh4,Ba3,Nxf3+,Bxf3,Rf6,Bxd6,Rxd6,b4,Rg6,b5,Bxh3,bxc6,bxc6,Qb3+,Kh8,Rac1,Qg5,Qb7,Rg8,Rxc6', 'Qxg2+,Bxg2,Rxg2#', 'https://lichess.org/training/NAfjS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NaFWN', 'Rapid', 'butare', 1711, 'Kokokerolls2013', 1614, 'e4,e5,Nf3,Nf6,Nc3,Bc5,d4,Bxd4,Nxd4,exd4,Qxd4,O-O,Bg5,Nc6,Qd2,Re8,O-O-O,h6,Bh4,Qe7,f3,d6,Nd5,Qe6,Nxc7,Qxa2,c3,d5,Nxa8,dxe4,Nc7,exf3,Nxe8,Bf5,Nxf6+,gxf6,Bd3,Be6,Bb1,Qa1,Bxf6,Na5,Qxh6,Nb3+,Kc2,Bf5+,Rd3,Bxd3+,Kxd3,Qa6+,Kc2,Na1+,Kd1', 'Qe2+,Kc1,Nb3#', 'https://lichess.org/training/NaFWN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NAg16', 'Blitz', 'f1nt', 1631, 'petekpupil', 1619, 'e4,d6,d4,Nf6,Nc3,Nbd7,f4,e5,fxe5,dxe5,d5,Bb4,Bd3,Nc5,Nf3,Bxc3+,bxc3,Qd6,O-O,Bg4,h3,Bxf3,Qxf3,O-O-O,Be3,Nxd3,cxd3,b6,a4,c6,c4,c5,Rab1,Nd7,a5,f6,Qg4,Kc7,axb6+,axb6,Qxg7,Rdg8,Qh6,Rg6,Qh4,Rhg8,Rf2,Rg3,Bd2,Qf8,Qxh7,R8g7,Qf5,Qg8,Bh6', 'Rxg2+,Kf1,Rg1+,Ke2,Rxb1', 'https://lichess.org/training/NAg16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('naGGb', 'Rapid', 'HS-OE-Horst', 1704, 'Sandyhill', 1635, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,c6,a4,Be7,e3,O-O,Bd3,Nbd7,Nge2,h6,Bh4,dxc4,Bxc4,Nd5,Bxe7,Nxe7,O-O,Ng6,Bd3,c5,Qc2,cxd4,Nxd4,Nf6,Rad1,a6,Bxg6,fxg6,Qxg6,Qe8,Qg3,Qh5,f3,e5,Nde2,Be6,Qf2,Ng4,Qg3,Nxe3,Rd6,Nxf1,Kxf1,Bc4,Kg1,Bxe2,Nxe2,Rad8,Rg6,Rd7,h3,Qf5,h4,Qb1+,Kh2,Qxb2,Ng1,Rdf7,Rxh6,Qd2,Re6,Qf4,Rxe5,Qxg3+,Kxg3,Rf5,Re7,b5,axb5,Rxb5,Nh3,a5,Ra7,Rfb8,Ng5,R8b7,Ra6,R7b6,Ra8+,Rb8,Ra6,Re8,Ne4,Rd5,Ra7,Rd3,Kf4,Ra3,Nd6,Rf8+,Kg4,a4,Ne4,Ra2,Kg3,a3,Ng5,Re8,Kh2,Ra1,Kg3,a2,Kf2,Re7', 'Ra8+,Re8,Rxe8#', 'https://lichess.org/training/naGGb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAGIt', 'Rapid', 'The_Road_Runner', 1730, 'ferroburak', 1695, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,d5,d3,Nf6,Qe2+,Qe7,Bg5,Be6,O-O-O,Nc6,Bxf6,gxf6,Re1,Bh6+,Kb1,O-O-O,Nb5,Kb8,Nbd4,Nxd4,Nxd4,Rhe8,Qh5,Bd2,Nxe6,fxe6,Re2,Bg5,h4,Bf4,g3,Be5,f4,Bd4,Bh3,Qb4,c4,e5,fxe5,Bxe5,d4,dxc4,dxe5,c3,exf6,Rxe2,Qxe2,cxb2,Qxb2', 'Qe4+,Qc2,Qxh1+', 'https://lichess.org/training/nAGIt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NaGpL', 'Rapid', 'mrajg', 1837, 'p206', 1825, 'e4,e6,d4,d5,Bd3,c5,exd5,exd5,dxc5,Bxc5,Qe2+,Be6,Nf3,Nf6,O-O,O-O,h3,Nbd7,a3,Qb6,Nc3,Rfe8,Na4,Qc7,b4,Bd6,Bb2,Bxh3,Qd2,Be6,Qg5,h6,Qh4,Be7,Nd4,Ng4', 'Nxe6,fxe6,Qxg4', 'https://lichess.org/training/NaGpL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAhm5', 'Rapid', 'ondra89', 1683, 'robbidebrux', 1713, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,dxc5,Nxe5,Bxd7+,Nxd7,b4,Ngf6,Nc3,a5,Ba3,axb4,Bxb4,Be7,Qd4,O-O,O-O,Qc7,Nb5,Qc6,a4,Nxc5,Ne5,Qc8,f4,Nfd7', 'Nxd7,Qxd7,Bxc5', 'https://lichess.org/training/nAhm5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAHTR', 'Rapid', 'Perdviv', 1725, 'TheChosenOneOf17', 1729, 'd4,c5,dxc5,Qa5+,Bd2,Qxc5,Nc3,Nc6,Be3,Qb4,a3,Qxb2,Bd2,g6,Rb1,Qxa3,e3,Bg7', 'Nb5,Qc5,Nc7+', 'https://lichess.org/training/nAHTR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAidT', 'Blitz', 'CM Davigator', 2343, 'Unusuel', 2289, 'e4,c6,d4,d5,e5,Bf5,h4,h5,c4,e6,Nc3,Ne7,Be2,dxc4,Bxc4,Nd5,Nge2,Be7,g3,Bg4,Qb3,Qc7,Ne4,O-O,Bg5,b5,Bd3,Bf3,O-O,Nb4,Bxe7,Qxe7,Nf4,Nxd3,Qxd3,Bxe4,Qxe4,g6,Rac1,Kg7,Rc3,a5,Rfc1,Rd8,Rf3,Ra7,Rc5,Rad7,Ne2,Rxd4,Nxd4,Qxc5,Nb3,Qd5,Qf4,Rd7,Qf6+,Kg8,Nxa5,Qxa2,Nb3,Qxb2,Kg2,Qc2,Qf4,Qc4,Qe3,Qd5,Nc5,Rd8,Nb7,Rd7,Nd6,Na6,Qb6,Qxe5,Nxf7,Rxf7,Rxf7,Kxf7,Qxa6,Qd5+,Kh2,b4,Qb7+,Kf6,Qc8,b3', 'Qf8+,Ke5,Qf4#', 'https://lichess.org/training/nAidT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NAj8V', 'Classical', 'GeometricDialectic', 1889, 'thshupe', 1947, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,e3,h6,Bxf6,Bxf6,Nc3,O-O,Bd3,b6,cxd5,exd5,h3,Be6,Rc1,c5,O-O,Nc6,Bb1,Qe7,Re1,Rfd8,Qd3,g6,Qb5,Rac8,dxc5,bxc5,e4,Nd4,Qd3,c4,Qe3,Nxf3+,Qxf3,d4,Nd5,Bxd5,exd5,Qd6,Qg4,Bg7,Be4,f5,Bxf5,gxf5,Qxf5,Qxd5', 'Re8+,Rxe8,Qxd5+', 'https://lichess.org/training/NAj8V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NaJKE', 'Rapid', 'judelpacheco123', 1678, 'yasein_alkish', 1719, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Be7,Be3,b5,Bb3,d5,Nbd2,dxe4,dxe4,Bb4,O-O,Bxd2,Bxd2,O-O,Qe2,Bg4,Rad1,Nd4,Qe3,Nxf3+,gxf3,Bh3,Rfe1,Nh5,Bb4,Qf6,Kh1,Rfd8,Rxd8+,Rxd8,Rg1,Nf4,Ba5,Qh4,Bxc7,Qg5,Rxg5', 'Rd1+,Qe1,Rxe1+,Rg1,Bg2#', 'https://lichess.org/training/NaJKE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAKHk', 'Rapid', 'adamecz2004', 1671, 'ANIL-Koundal', 1674, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,Be7,O-O-O,h6,Bf4,Ng4', 'Qxg7,Bf6,Qxg4', 'https://lichess.org/training/nAKHk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nakS0', 'Rapid', 'door_89', 1699, 'tresdepicas', 1724, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,Na4,Bb6,Nxb6,axb6,c3,Na5,Be2,b5,Bxb5+,c6,Be2,b5,d4,f6,d5,Qb6,dxc6,Qxc6,Qd5,Qxd5,exd5,Ba6,a4,Nb3,Rb1,bxa4,Bxa6,Rxa6,Nd2,Nc5,O-O,Ne7,Ra1,Nxd5,Nc4,O-O,Rd1,Nf4,Bxf4,exf4,Rxd6,Rxd6,Nxd6,Rd8,Nc4,Rb8,f3,h5,Rd1,g5,Rd6,Kf7,Rc6,Nd3,Rb6', 'Rxb6,Nxb6,Nxb2,Nxa4,Nxa4', 'https://lichess.org/training/nakS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NAlCR', 'Blitz', 'kulmanov', 1871, 'Henka_NL', 1901, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d6,Nc3,Be7,O-O,O-O,h3,Bd7,Bg5,a6,a4,h6,Be3,Nh5,Qd2,Kh7,g4,Nf6,g5,hxg5,Bxg5,Bxh3,Nh4,Nxe4,Bxe7,Nxd2,Bxd8,Nxf1,Bg5,f6,Bc1,Nd4,b3,Nxc2,Rb1,g5,Ng2,Bxg2,Kxg2,Nfe3+,fxe3,Kg6,d4,Rh8,Bd3+,f5,Bxc2,e4,Ba3,Rh6,Rb2,Rah8,Nxe4,fxe4,Bxe4+,Kf6,Kg3,Rh3+,Kg4', 'R8h4#', 'https://lichess.org/training/NAlCR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAlGJ', 'Blitz', 'jab2015', 2045, 'pablobadde', 2083, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,f4,Bg7,Nf3,O-O,Be2,a6,O-O,Re8,a4,Nxe4,Nxe4,Rxe4,Ng5,Re8,f5,Nd7,fxg6,fxg6,Ne6,Rxe6,dxe6,Ne5,Bf3,Nxf3+,Qxf3,Bxe6,Qxb7,Rb8,Qe4,Qd7,Bf4,Bxb2,Rad1,Bd4+,Kh1,Re8,Qd3,Bf5,Qxa6,Be4,Qxd6,Qh3,Rg1,Bxg1,Rxg1', 'Bxg2+,Rxg2,Re1+,Rg1,Qf3#', 'https://lichess.org/training/nAlGJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('namGs', 'Rapid', 'ayham80', 1683, 'Orakkke', 1685, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,h6,a3,O-O,b4,Be7,Bb2,d6,c3,Be6,Bxe6,fxe6,d4,exd4,cxd4,Nxe4,Re1,d5,Nc3,Qd7,Nxe4,dxe4,Rxe4,Rf6,Qd3,Raf8,Rae1,Rg6,Nh4,Bxh4,Rxh4,Qf7,f3,Qf6,Rh3,Qg5', 'Rg3,Qf5,Qxf5,Rxf5,Rxg6', 'https://lichess.org/training/namGs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAmhb', 'Classical', 'el_perro_orfeo', 1860, 'AlekseqKrutihin', 1873, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Nxe4,Nxd4,d5,Nxc6,bxc6,Bb3,Be7,f3,Nf6,Be3,O-O,Nc3,Bb7,Na4,Nd7,Re1,Re8,c4,Nb6,c5,Nxa4,Bxa4,Bf6,Bf2,Rxe1+,Qxe1,Bxb2', 'Rb1,Bf6,Rxb7', 'https://lichess.org/training/nAmhb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nanMS', 'Classical', 'nobaghi1358', 1709, 'moko-shella', 1890, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,a6,Bxc6,dxc6,Nxe5,Bd6,Nf3,O-O,d3,Bg4,h3,Bh5,e5,Nd5,exd6,Nxc3,bxc3,Qxd6,O-O,Rad8,Qd2,Rfe8,Qf4,Qc5,Bb2,Qb5,Rac1,Qxb2,Ng5,Qxa2,Qxc7,f6,Ne4,Qb2,Nd6,Rf8,Nf5,Bf7,Rb1,Qxc3,Rxb7,Qe5,Ne7+,Kh8,Qb6,Rb8,Nxc6,Rxb7,Qxb7,Qd5,Qxa6,Qd6,Ra1,Bd5,Nd4,Qc5,Qa4,h6,Rb1,Qc3,Qb4,Qc8,c4,Bg8,Qb7,Qd8,Qe4,Re8,Qg4,Re7,Nf5,Rf7,Rd1,Bh7,Nd4,f5,Qg3,Qxd4,Qe3,Qc3,Qe8+,Bg8,Qe3,f4,Qf3,Bh7,Qd5,Bg8,Rb1,Ra7', 'Rb8,Kh7,Qxg8+', 'https://lichess.org/training/nanMS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NanYj', 'Classical', 'JSmith52', 2075, 'inicio_e4', 1790, 'd4,Nf6,c4,d5,Nc3,g6,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,c5,Be3,cxd4,Bxd4,Bxd4,cxd4,O-O,Be2,Qa5+,Qd2,Qxd2+,Kxd2,Nc6,Rab1,Rd8,Ke3,Bg4,Rhd1,b6,h3,Bxf3,Bxf3,Rd7,e5,Rc8,Rbc1,Rdc7,Bxc6,Rxc6,Rxc6,Rxc6,Rd2,Kf8,Ke4,e6,d5,exd5+,Kxd5,Rc5+,Kd6,a5,Rb2,Rc8,f4,Rb8,a4,Rd8+,Kc7,Rd4,Kxb6', 'Rb4+,Kxa5,Rxb2', 'https://lichess.org/training/NanYj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('naoFm', 'Rapid', 'himapop', 1855, 'minombretieneunaE', 1795, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,g6,Bb5,Bd7,O-O,Bg7,Be3,Nf6,f3,O-O,Nxc6,bxc6,Bc4,e6,Qxd6,Qa5,Rad1,Rad8,Qg3,Nh5,Qh4,Bxc3,bxc3,Qxc3,Bb3,Qxe3+,Kh1,Qf4,Qe7,Rfe8,Qc5,Qf6,Qxa7,Qe7,a4,e5,a5,Be6', 'Qxe7,Rxe7,Rxd8+', 'https://lichess.org/training/naoFm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('naPWh', 'Rapid', 'snow65', 2249, 'vd_owlfish', 2202, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nb3,Nf6,Be3,Qb4+,c3,Qxe4,N1d2,Qg6,Be2,Qxg2,Bf3,Qg6,h4,h5,Nc4,d6,Nba5,Nxa5,Nxa5,e6,Nxb7,Nd5,Bxd5,exd5,Qxd5,Rb8,Qc6+,Bd7,Qc7,Rc8,Qa5,Be7,O-O-O,O-O,Rhg1,Qe4,Nxd6,Bxd6,Rxd6,Bf5,Kd2,Qc2+,Ke1,Rfe8,Rg3,Bd3,Rxd3,Qxd3,Qg5,g6,Qxh5,Rxe3+,fxe3,Re8,Qe2,Qb1+,Kf2,Qf5+,Qf3,Qc2+,Qe2,Qf5+,Kg1,Re4,h5,Rh4,hxg6,fxg6,Qf3', 'Qb1+,Qf1,Rh1+,Kxh1,Qxf1+', 'https://lichess.org/training/naPWh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAQ76', 'Classical', 'MartinSzpalek', 1695, 'mandarkumbhar', 1710, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nf3,b5,Bg5,Be7,O-O,Nbd7,h3,Bb7,Bxf6,Nxf6,Nh2,Nxe4,Nxe4,Bxe4,Bf3,Bxf3,Qxf3,Rc8,Rac1,O-O,Qg3,Re8,Ng4,Bf8', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/nAQ76');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NaQbx', 'Classical', 'Karman16', 1647, 'emxq', 1622, 'e4,c5,Nf3,d6,c3,Nf6,d4,Nc6,e5,dxe5,dxe5,Ne4,Bd3,Bf5,O-O,Nxf2,Rxf2,Bxd3,Rd2,c4,Na3,Qb6+,Kh1,O-O-O,Nxc4,Bxc4,Rxd8+,Nxd8,Bf4,Ne6,Bg3,f6,b3,Bb5,c4,Bc6,Nh4,g5,Nf5,Be4,c5,Nxc5,Nd4,f5,Rc1,e6,Be1,a5,Qh5,Be7,Qf7,Qd8,Nxe6,Qe8,Qxe8+,Rxe8,Nxc5,Bxc5,Rxc5+,Kd7,Bxa5,Rc8,Rxc8,Kxc8,h3,f4,Kg1,h5,Bd2,Kd7,Kf2,Ke6,Bc3,g4,hxg4,hxg4,b4,g3+,Kf1,f3,gxf3,Bxf3,a3,g2+,Kg1,Bc6,Kh2,Kf5,b5,Bd5,a4,Ke6,a5,Kf5,a6,bxa6,bxa6,Ke6,a7,Kf5,Bd4,Ke6,Kg3,Kf5,Kh4,Ke4,e6,Kxd4,e7,g1=Q,e8=Q,Qh2+,Kg5,Qg3+,Kh6,Qf4+,Kg7,Qg5+,Qg6,Qe7+,Kh6,Qxa7', 'Qg1+,Kc4,Qxa7', 'https://lichess.org/training/NaQbx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NascL', 'Rapid', 'Chekmenyv2013', 1725, 'Kondratiev_Jdan_2013', 1857, 'e4,Nf6,Qf3,d6,d4,g6,e5,dxe5,dxe5,Ng4,Bc4,Nxe5,Qf4,Nxc4,Qxc4,Bg7,Nf3,Be6,Qb5+,Nc6,Qxb7,Bd5,Qb5,a6,Qe2,O-O,O-O,Qd7,Nc3,Bxf3,Qxf3,Nd4,Qd3,Rfd8,Be3,e5,Ne4,Nf5,Qe2,Qd5,Bg5,f6,Bxf6,Rd7,Bxg7,Kxg7,Rad1,Qc6,Ng5,Rxd1,Rxd1,Qf6,Rd7+,Ne7,Ne4,Qe6,Rxc7,a5,Nc5,Qd6,Rxe7+,Qxe7,Ne4,Qb4,g3,Qxb2,Nd6,Rd8,Nc4,Qb5,a4,Qd5,c3,Rc8', 'Nb6,Qc5,Nxc8', 'https://lichess.org/training/NascL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nasWh', 'Rapid', 'moteriyadeep', 1944, 'chinmay2016', 1873, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Bc5,d4,exd4,Re1+,Be7,Nxd4,O-O,Nxc6,bxc6,Bxd5,Qxd5', 'Qxd5,cxd5,Rxe7', 'https://lichess.org/training/nasWh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nATdj', 'Rapid', 'negro62', 1825, 'amkXcome', 1974, 'e4,d5,Nc3,d4,Nce2,e5,d3,Nf6,f4,Nc6,Nf3,Bg4,Nxe5,Nxe5,fxe5,Nd7,h3,Bxe2,Bxe2,Nxe5,O-O,Bd6,Bf4,O-O,Qe1,h6,Qg3,Qf6,Bxe5,Qxe5,Qxe5,Bxe5,Rf5,f6,g4,c5,Raf1,g6,R5f3,b5,b3,a5,h4,Rac8,h5,c4,bxc4,bxc4,dxc4,Rb8,Rb3,Ra8,a4,gxh5,gxh5,Ra7,Bg4', 'Rg7,Kf2,Rxg4', 'https://lichess.org/training/nATdj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAV6Y', 'Blitz', 'Kudrin64', 1695, 'karavackij', 1697, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Bc4,d5,Qe2,c6,d3,Qe7,Nf3,dxc4,dxe4,Be6,Nc3,g6,O-O,Bg7,Bd2,O-O,Ng5,Bxc3,Nxe6,Bxb2,Nxf8,Bxa1,Nxg6,fxg6,Rxa1,Qf6,Rb1,b5,Qe1,Nd7,Bc3,Qe6,Qe3,Re8,f3,Nc5,Qxc5,Rd8,Qxa7,Qd7,Qxd7,Rxd7,Kf2,Kf8,Ke3,Kf7,f4,Ke6,g4,Ra7,Ra1,c5,f5+,Kf7,Kf4,Ra3,Be5,Rh3,Kg5', 'h6+,Kf4,g5#', 'https://lichess.org/training/nAV6Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAvd7', 'Rapid', 'toci12', 2288, 'Oneg4wins', 2210, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,Bg6,Ne2,Bxe4,Bxe4,Nf6,Bf3,e6,Bg5,Be7,c3,h6,Be3,O-O,Qb3,Qc7,Bf4,Bd6,Bg3,Bxg3,hxg3,Nbd7,Nf4,Nd5,Nxd5,cxd5,O-O,Nf6,Rae1,Rac8,Re5,a6,g4,Nd7,Rh5,Nf6,Re5,Nd7,Rh5,Nf6,Rh4,b5,Qc2,Qf4,Qe2,Ne4,g3', 'Nxg3,fxg3,Qxg3+,Bg2,Qxh4', 'https://lichess.org/training/nAvd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NAvUw', 'Rapid', 'arhanhotman', 1717, 'fidail88', 1782, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,Bd3,Bxd3,Qxd3,e6,O-O,Nbd7,Bf4,Be7,Rfe1,O-O,Re2,Nd5,Be5,f6,Bd6,Bxd6,Rxe6,Bxg3,hxg3,Re8,Rxe8+,Qxe8,Re1,Qg6,Qb3,b6,Re6,Rc8', 'Rxc6,Rxc6,Qxd5+,Qf7,Qxc6', 'https://lichess.org/training/NAvUw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NAxCH', 'Rapid', 'Yakovlev', 1916, 'Tausug1898', 1901, 'e4,Nc6,Nf3,e5,d4,exd4,Nxd4,Qe7,Nc3,Qe5,Nxc6,dxc6,Bd3,h5,O-O,Bc5,Be3,Bg4,Qd2,O-O-O,f4,Qd6,e5,Bxe3+,Qxe3,Qd4,Rae1,Ne7,Qxd4,Rxd4,f5,h4,h3,Bh5,f6,gxf6,Rxf6,Rg8,Ne2,Bxe2,Rxe2,Nd5,Rxf7,Nf4,Rf2', 'Nxh3+,Kf1,Nxf2', 'https://lichess.org/training/NAxCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nAzkk', 'Rapid', 'Bacamorte', 1856, 'SmokinMardy', 1859, 'g4,g6,Bg2,Bg7,c3,e6,Qb3,c6,d4,Ne7,Be3,O-O,g5,d5,h4,Nf5,Bd2,Nd7,Nf3,e5,Bh3,e4,Ne5,Nxe5,Bxf5,Bxf5,dxe5,Bxe5,Be3,d4,cxd4,Bxd4,Nd2,Bxe3,fxe3,Qb6,Qxb6,axb6,O-O,Rfe8,Nc4,Bh3,Rf4,b5,Nd6,Re7,Nxe4,Rd8,Nf6+,Kg7,Kh2,Rxe3,Rf3,Rxf3,exf3,Bf5,a4,b4,a5,h6,a6,bxa6,Rxa6,hxg5,hxg5,Rd2+,Kg3,Kf8', 'Ra8+,Ke7,Re8+,Kd6,Rd8+,Kc5,Rxd2', 'https://lichess.org/training/nAzkk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nb1rb', 'Classical', 'nikitozzz', 1738, 'FrozenFractals', 1615, 'd4,d5,Bg5,h6,Bh4,Bf5,Nf3,Nd7,e3,Ngf6,c4,e6,cxd5,exd5,Nc3,Bb4,Ne5,Qe7,f4,Qd6,Bd3,Ne4,Qc2,Nxe5,fxe5,Qg6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/nb1rb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nB2v3', 'Rapid', 'Pereval', 1837, 'Boris-Trapsky', 2278, 'e4,e6,Nf3,c6,d4,d5,exd5,Qxd5,Nc3,Qd8,Be2,h6,O-O,Nf6,Re1,Nbd7,Ne5,a6,Bf4,Bb4,a3,Bxc3,bxc3,O-O,Qd2,Nd5,Bd3,f5,Nxd7,Nxf4,Nxf8,Qg5,f3', 'Nh3+,Kh1,Qxd2', 'https://lichess.org/training/nB2v3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nb4eG', 'Rapid', 'dweeb', 1776, 'ProRockTV', 1834, 'd4,d5,Nf3,Bf5,e3,e6,h3,h6,Bd3,Bxd3,Qxd3,Nf6,O-O,Bd6,b3,Nbd7,Bb2,O-O,c4,c6,c5,Bc7,b4,b5,Nbd2,a5,a4,bxa4,Rxa4,axb4,Rxb4,Nh7,Qb3,f5,Ra4,Rxa4,Qxa4,Ndf6,Qxc6,Re8,Ra1,Qb8,Bc3,Ne4,Rb1,Qc8,Rb7', 'Bh2+,Kxh2,Qxc6', 'https://lichess.org/training/Nb4eG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nb5OT', 'Rapid', 'Mke12345678', 1891, 'tqd0306', 1838, 'd4,d5,c4,Bf5,Nc3,Nf6,Bg5,e6,Bxf6,gxf6,cxd5,exd5,e3,a6,Qf3,Qd7,Qxd5,Bb4,Bc4,O-O,Qxb7,Nc6,d5,Ne5,Qxb4,Rfb8,Qc5,Bd3,Bb3,Be4,Qd4,Bxg2,Nge2', 'Nf3+,Kd1,Nxd4', 'https://lichess.org/training/nb5OT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nb5Zn', 'Rapid', 'AdanaKebap1884', 1983, 'Vinayyenegure', 1953, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,Bg5,h6,Bh4,Be7,O-O,d5,Bxf6,dxc4,Bxe7,Qxe7,dxc4,f5,Nbd2,Be6,Qc2,fxe4,Qxe4,Rf4,Qg6,Bxc4,Nxc4,Rxc4,Rfe1,Re8,Re2,b5,Rae1,e4,Nd4,Nxd4,Rxe4,Nf3+', 'gxf3,Rxe4,Rxe4', 'https://lichess.org/training/nb5Zn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nb6K6', 'Rapid', 'eren___sahin', 1733, 'vitouljarevicu', 1735, 'e4,Nc6,d4,d6,d5,Ne5,f4,Ng6,Nf3,Bg4,Be2,Nf6,O-O,c6,c4,cxd5,cxd5,Nxe4,Qd4,Nf6,Nc3,e6,h3,Bxf3,Bxf3,Be7,Re1,O-O,dxe6,fxe6,Bxb7,Rb8,Bf3,Qc8,Be3,d5,Rac1,Rb4,Qd2,Qb8,b3,Nxf4,Bd4,Ng6,Rxe6,Qc8,Nxd5,Rxd4,Rxc8', 'Rxd2,Nxe7+,Nxe7', 'https://lichess.org/training/Nb6K6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nB6Ka', 'Rapid', 'AJEDREZSUPERIOR', 1767, 'ghoul00', 1788, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Bg5,O-O,e3,Bg4,Bxf6,Bxf6,cxd5,Nd7,h3,Bxf3,Qxf3,Re8,Bc4,Nb6,Bb3,a5,a3,a4,Ba2,Nd7,Ne4,Bg7,O-O,Nf6,h4,Ra6,Rab1,e5,dxe6,Raxe6,Bxe6,Nxe4,Qxe4,Rxe6,Qg4,f5,Qh3,Re4,f4,Bf6,h5,Qe7,hxg6,hxg6,Rf3,c5,dxc5,Qxc5,Rg3,Kg7,b4,axb3,Rxb3,Re8,Rxb7+,Be7,a4,Qc1+,Kh2,Qc6,Rb5', 'Rh8,Qxh8+,Kxh8', 'https://lichess.org/training/nB6Ka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nb9Gq', 'Rapid', 'Ibo86', 1647, 'VacheDeEchecs', 1679, 'e4,c5,Bc4,e6,d3,Nc6,Nf3,d5,exd5,exd5,Bb5,Nf6,Qe2+,Be7,Bxc6+,bxc6,Nc3,O-O,Be3,d4,Nxd4,cxd4,Bxd4,Re8,O-O,c5,Bxf6,Bxf6,Qf3,Rb8,Nd5,Bb7,Nxf6+,gxf6,Qg4+,Kh8,Qg3,Rg8,Qe3,Rxg2+,Kh1,Rg3+,f3,Rg6,Rg1,Rxg1+,Rxg1,Qd5,Rg3,Qc6,Qe7,Re8', 'Qxf7,Qxf3+,Rxf3', 'https://lichess.org/training/nb9Gq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBA42', 'Rapid', 'takin6', 2036, 'grond', 1900, 'e4,e5,Bc4,Nf6,Nc3,Be7,a3,O-O,d3,c6,Ba2,d5,Nf3,Bg4,h3,Bh5,g4,Bg6,Nxe5,dxe4,Nxg6,hxg6,g5,Nd5,Nxe4,f5,gxf6,Bxf6,Qg4,Qe8,h4,Nd7,h5,Ne5,Qg3,Rd8,Be3,Kf7,O-O-O,gxh5,Nxf6,gxf6,Rxh5,Ke6,Qh3+,Kd6,b4,Nc3,Bc5+,Kc7,Rh7+,Kb8,Bxf8,Qxf8,Rg1', 'Ne2+,Kb2,Nxg1', 'https://lichess.org/training/NBA42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBAKL', 'Classical', 'Greca', 1689, 'reivaz', 1692, 'd4,d5,Bf4,Bf5,e3,e6,c3,Nf6,Bb5+,c6,Ba4,b5,Bc2,Bxc2,Qxc2,Nh5,Bg3,Nxg3,hxg3,h6,Qe2,Nd7,a3,Nf6,Nd2,Be7,Ngf3,Bd6,Ne5,Bxe5,dxe5,Ne4,Qf3,Nxd2,Kxd2,O-O,Qg4,Qg5,Rh4,Qxg4,Rxg4,f6,exf6,Rxf6,Ke2,e5,Rh1,g5,f3,Raf8,e4,a5,Kd3,Kg7,exd5,cxd5,Re1,Re8,f4,e4+,Kd4,Rf5,fxg5,hxg5,Re3,Rc8,Re1,Rc4+,Ke3,b4,cxb4,axb4,a4,d4+,Kxe4,Ra5,b3,Rc3,Rb1,d3,Ke3,Re5+,Re4', 'd2+,Kxd2,Rxe4', 'https://lichess.org/training/NBAKL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nBaSV', 'Blitz', 'nrm18', 2454, 'CM Davigator', 2363, 'e4,c5,Nf3,Nc6,c3,Nf6,Bd3,d6,h3,e5,O-O,Be7,Bb5,Nxe4,d4,exd4,cxd4,O-O,Re1,Nf6,Bxc6,bxc6,dxc5,d5,Qc2,Re8,Be3,a5,Nbd2,Qc7,Bd4,Nh5,Be5,Qa7,Bd6,Be6,Bxe7,Rxe7,Nd4,Rc8,Re3,Nf4,Rae1,g6,Kh2,Qc7,g3,Nh5,Nxe6,fxe6,Rxe6,Rxe6,Rxe6,Rf8,Re2', 'Rxf2+,Rxf2,Qxg3+,Kh1,Qxf2', 'https://lichess.org/training/nBaSV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nbBWO', 'Rapid', 'mirkoj', 1812, 'Makc_T', 1710, 'e4,e6,d4,c6,f4,Nf6,Nc3,d5,e5,Ne4,Nxe4,dxe4,Qe2,Qxd4,Nf3,exf3,Qxf3,Bb4+,c3,Ba5,b4,Bxb4,cxb4,Qxa1,Qa3,O-O,Be2,Qd4,Be3,Qa1+,Bc1,f6,O-O,fxe5,Bb2,Qxf1+,Bxf1,exf4,Qc3,Rf7,Qe5,Nd7,Qxe6,Nf8,Qe8,b5,Qxc6,Bb7,Qxb5,f3', 'Bc4,f2+,Kf1,Bxg2+,Kxg2', 'https://lichess.org/training/nbBWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBCcM', 'Rapid', 'ad_iranplayers', 1676, 'patlasha', 1669, 'd4,d5,c4,c6,Bf4,Nf6,e3,Bg4,Nf3,Nh5,Bxb8,Qxb8,cxd5,e6,dxe6,Bxe6,Ng5,Nf6,Nxe6,fxe6,Bc4,Qc8,Qb3,Nd5,Nc3,Bb4,Bxd5,Bxc3+,Qxc3,exd5,O-O,O-O,Rae1,Qf5,f3,Rae8,e4,Qf4,e5,Re6,Qe3,Qh4,f4,Rf5,Qg3,Qh5,h3,Rg6,Qf3,Qh6,g4,Rh5,Kh1,Rxh3+,Kg2,Rxf3,Rxf3,Rxg4+,Kf2,Qh2+,Ke3,Qh6,Ref1,Qe6,f5,Re4+,Kd3,Qh6,f6,gxf6,Rg1+,Kh8,exf6,Re8,f7,Rf8,Rfg3,Qe6', 'Rg8+,Rxg8,Rxg8#', 'https://lichess.org/training/NBCcM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBcH3', 'Classical', 'AndreaCica', 1755, 'Ernestillo', 1721, 'd4,Nf6,Nf3,e6,Bf4,Be7,e3,O-O,c4,d5,a3,h6,Nc3,Nc6,cxd5,exd5,Be2,a6,Rc1,Nh7,Qb3,Nf6,Ne5,Na5,Qc2,Ne4,Nxe4,dxe4,Qxe4,c6,Qc2,Be6,Bc4,Nxc4,Nxc4,Bd5,O-O,Bg5,Bxg5,Qxg5,f4,Qe7,Qf2,Rae8,Ne5,Kh7,Rfe1,f6,Qc2+,f5,Qf2,Be4,Qg3,Rf6,Qf2,Qe6,Qd2,Rd8,Qb4,b5,Qa5,Qd5,Qb4,Bxg2,Qd2,Be4,Rc3,g5,fxg5,hxg5,Rec1,f4,Ng4,Re6,exf4,gxf4,Qxf4,Qxd4+,Qe3,Rg6,h3,Qxe3+,Rxe3,Bf5,Rg3,Rdg8,Kf2,Bxg4,Rxg4,Rxg4,hxg4,Rxg4,Rxc6,Rg6', 'Rxg6,Kxg6,Ke3', 'https://lichess.org/training/NBcH3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBcP7', 'Rapid', 'Esponjudo', 1608, 'JohnD3400', 1609, 'd4,Nf6,c4,g6,Bf4,d5,e3,Bg7,Nf3,Nc6,Bd3,Bg4,O-O,O-O,h3,Bxf3,Qxf3,e6,Nc3,a6,a3,Re8,cxd5,Nxd5,Nxd5,Qxd5,Qxd5,exd5,Bxc7,Rac8,Bf4,b5,a4,Nb4,Be2,Nc2,Rac1,Nxd4,Rxc8', 'Nxe2+,Kh1,Rxc8', 'https://lichess.org/training/NBcP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nbcwb', 'Rapid', 'dendy-metamorphosis', 1959, 'laotzi', 2031, 'c4,Nf6,g3,g6,Nf3,Bg7,d4,c5,d5,b5,cxb5,a6,bxa6,Bxa6,Nc3,O-O,Bg2,d6,O-O,Nbd7,Re1,Ng4,h3,Nge5,Nxe5,Nxe5,f4,Nc4,e4,Qa5,Qc2,Bd4+,Kh2,Rab8,Rb1,Bxc3,Qxc3', 'Qxc3,bxc3,Rxb1', 'https://lichess.org/training/Nbcwb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nbedb', 'Blitz', 'ToskeKG', 1961, 'roidumat', 1906, 'e4,e5,Nf3,Nf6,d3,Bc5,Nc3,d6,Be3,O-O,Bxc5,dxc5,Be2,Nc6,Qd2,Re8,O-O-O,a5,h3,a4,a3,Bd7,g4,Nd4,g5,Nh5,Nxd4,cxd4,Nd5,c6,Bxh5,cxd5,exd5,g6,Bf3,b5,h4,Bf5,h5,e4,dxe4,Bxe4,Bxe4,Rxe4,hxg6,fxg6,Rde1,Qxd5,Rxe4,Qxe4,Re1,Qd5,Kb1,Rd8,Qf4,d3,cxd3,Qxd3+,Ka1,Qd2', 'Re8+,Rxe8,Qxd2', 'https://lichess.org/training/nbedb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBev9', 'Rapid', 'adamessalih', 2025, 'MarceloCabral', 1996, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Be2,Nc6,d4,Bg4,O-O,e6,h3,Bh5,b3,Nge7,Bb2,Bxf3,Bxf3,Nf5,Bg4,Qf6,c4,dxc4,bxc4,Nfxd4,Qa4,Ne2+,Bxe2,Qxb2,Bf3,Rc8,Na3,Bxa3,Rab1,Qc3,Rb3,Qa5', 'Bxc6+,Rxc6,Qxa5', 'https://lichess.org/training/NBev9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBFnS', 'Blitz', 'xswq', 1778, 'deegsdeegs', 1829, 'e4,d5,f4,dxe4,Bc4,Nf6,Nc3,Nc6,d3,Na5,Bxf7+,Kxf7,Be3,Bg4,Nge2,exd3,cxd3,e6,h3,Bh5,b4,Nc6,O-O,Bxb4,Qb3,Bxe2,Nxe2,Re8,f5,Kg8,Ng3,Nd5,Bg5,Qxg5,fxe6,Rxe6,Ne4,Qe3+,Kh1,Rxe4,Qxd5+,Kh8,dxe4,Qg3,Rad1,Bd6,e5,Bxe5', 'Qd8+,Rxd8,Rxd8+,Nxd8,Rf8#', 'https://lichess.org/training/NBFnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbgIC', 'Rapid', 'CrypticKhan', 1927, 'WINDOWS1010', 1902, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bg5,Be7,Bxf6,Bxf6,Nf3,Nc6,Bxc6+,bxc6,O-O,O-O,c3,Ba6,Re1,Qd6,Nbd2,c5,Ne4,Qe7,Nxc5,Bc4,b3,Bd5,c4,Bc6,b4,Rfd8,d5,Bxa1,Qxa1,Bd7,Ne5,Be8,Nb7,Rdb8,Na5,Qxb4,Nac6,Bxc6,Nxc6,Qxc4,Nxb8,Rxb8,dxe6,fxe6,h3,Rf8,Qe5,Qxa2,Qxe6+,Qxe6,Rxe6,Rf6,Re8+,Kf7,Ra8,Ra6,Rc8,c6,Rc7+,Kg6,Kf1,Kf6,Ke2,h6,Ke3,g5,Kd4,Ke6,Rh7,Kf5,Rxh6', 'c5+,Kc3,Rxh6', 'https://lichess.org/training/NbgIC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nbGoZ', 'Rapid', 'xyzloser', 1624, 'IpsAps', 1610, 'e4,Nf6,e5,Ng8,d4,f6,Nf3,Nc6,Nc3,e6,Bc4,fxe5,Nxe5,d5,Bb5,Ne7,Bxc6+,bxc6,Bg5,Qd6,Bxe7,Kxe7,Qh5,g6,Nxg6+,hxg6,Qxh8,Ba6,Qh7+,Kf6,O-O-O,Bg7,Kb1', 'Rh8,Qxh8,Bxh8', 'https://lichess.org/training/nbGoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nBGUR', 'Rapid', 'Mekk', 1996, 'BigEvo8', 1878, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Be3,cxd4,cxd4,Qb6,Qd2,Bf5,Nc3,e6,Nge2,Nge7,Ng3,Bg6,Be2,h5,Bf3,h4,Nge2,Nf5,O-O,Be7,Rac1,f6,exf6,Bxf6,Na4,Qc7,Nc5,Bf7,Nf4,Ke7,Bxd5,exd5,Rfe1,Rhe8', 'Nxd5+,Bxd5,Bf4+', 'https://lichess.org/training/nBGUR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbHBQ', 'Rapid', 'shaheed', 1731, 'jochemjaaah', 1658, 'd4,e6,e4,d5,Nc3,Bb4,e5,f6,Nf3,fxe5,dxe5,Nc6,Bg5,Nge7,Bb5,O-O,O-O,Qe8,a3,Bc5,Nd4', 'Bxd4,Qxd4,Nxd4,Bxe8,Rxe8', 'https://lichess.org/training/NbHBQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbhFH', 'Rapid', 'lightwine', 1937, 'okiemute22', 1906, 'e4,e6,Nf3,d5,exd5,exd5,c4,dxc4,Bxc4,Nf6,O-O,Bg4,Re1+,Be7,Qb3,O-O,Ng5,Nc6,Nxf7,Rxf7,Bxf7+,Kf8,d3,Nd4,Qc4,b5,Qc3,Kxf7,Bf4,Ne2+,Rxe2,Bxe2,Nd2,Bd6,Bg5,Kg8,Ne4,Nxe4', 'Qb3+,Kh8,Bxd8', 'https://lichess.org/training/NbhFH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nbhZy', 'Bullet', 'ulfulfssondervierte', 1544, 'selec', 1561, 'c4,c6,Nc3,e6,d4,d5,cxd5,cxd5,g3,Be7,Bg2,f5,Nf3,Nf6,O-O,Nc6,a3,O-O,b4,a6,Bb2,b5,Nd2,Bb7,Nb3,Ne4,e3,Nxc3,Bxc3,Bd6,Nc5,Bxc5,dxc5,Qe7,Qd2,Rad8,Rad1,Rfe8,Qb2,Qf7,f3,h6,e4,fxe4,fxe4,Qg6,exd5,exd5,Bxd5+,Kh8,Bg2,Rxd1,Rxd1,Nd8,Rd7,Re1+,Bxe1,Bxg2,Rxd8+,Kh7,Kxg2,Qe4+,Kg1,Qxe1+,Kg2,Qe4+,Kg1,Qe1+,Kg2,Qe4+,Kh3,Qf5+,g4', 'Qf3+,Kh4,g5+,Kh5,Qh3#', 'https://lichess.org/training/nbhZy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbIu9', 'Rapid', 'shocker99', 2166, 'yayurij', 2168, 'e4,e5,Nc3,Nc6,g3,Bc5,Bg2,d6,Na4,Bb4,c3,Ba5,b4,Bb6,Nxb6,axb6,Ne2,f5,d3,Nf6,O-O,O-O,f4,exf4,Bxf4,fxe4,dxe4,Bg4,Qd2,Qe8,Qe3,Ne5,h3,Be6,Nd4,Bc4,Rfd1,Nh5,Nf5,Nxf4,gxf4,Ng6,Qg3,Be6,Rf1,Bxf5,exf5,Rxf5,Bxb7,Ra3,Rae1,Qf7,Be4,Rh5,Qg4,Ne7,f5,Rh6', 'f6,Rxf6,Rxf6', 'https://lichess.org/training/NbIu9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbJD2', 'Classical', 'metcevik', 1637, 'cboeger', 1614, 'e4,c5,Bc4,d6,Nf3,Nf6,d3,g6,h3,Bg7,c3,O-O,O-O,d5,Bb3,dxe4,dxe4,Nxe4,Re1,Nd6,Bg5,Re8,Qd5,Qc7,Nbd2,e6,Qd3,Bd7,Bf4,e5,Nxe5,Bf5,Qd5,Be6,Qf3,c4,Ndxc4,Nxc4,Nxc4,Qc5,Qxb7,Nc6,Nd6,Rab8,Qc7,Re7,Ne4,Qb5,Qd6,Bxb3,axb3,Rd8,Qc5,Qb7,Bg5,Re5,Qc4,Rde8,b4,Nb8,f3,Nd7,Rad1,Kh8,Rd4,Nb6,Qd3,Na4,Rd8,Qb6+,Rd4,Nxb2,Qc2,Nc4,Kh1,Rxg5,Rxc4,f5,Nxg5,Rxe1+,Kh2,Be5+,f4,Bxf4+,Rxf4,Qg1+,Kg3,Qe3+,Nf3,Re2,Qd1', 'Qf2+,Kh2,Qxg2#', 'https://lichess.org/training/NbJD2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBkh7', 'Rapid', 'ictiologo', 1987, 'cowperwood1', 1649, 'b3,e6,Bb2,d5,g3,c5,Bg2,Nc6,e3,Nf6,Ne2,Ne4,d3,Ng5,O-O,Bd6,Bxg7,Rg8,Bb2,e5,Nd2,e4,dxe4,Nxe4,Nxe4,dxe4,Bxe4,Bg4,Bg2,Ne5,Bxe5,Bxe5,Qxd8+,Rxd8,Rae1,Rd2,f3,Be6,f4,Bc7,Be4,h5,Bd3,h4,Kg2,Bd5+,e4,Bc6,Kf3,f5,Ke3,Ba5,exf5,Kd7,Kf2,hxg3+,hxg3,c4,bxc4', 'Bb6+,c5,Bxc5#', 'https://lichess.org/training/NBkh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbkHr', 'Blitz', 'Paulo_Weber', 2057, 'GM Macrofago', 2240, 'd4,d6,Nf3,Nf6,c4,g6,Nc3,Bf5,Qb3,b6,Ng5,Bg7,c5,O-O,cxd6,cxd6,e4,Bd7,Bc4,Nc6,Bxf7+,Kh8,Bd5,Nxd4,Qd1,Nxd5,Nxd5,Bb5,Ne6,Qc8,Nxg7', 'Nc2+,Qxc2,Qxc2', 'https://lichess.org/training/NbkHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBn97', 'Rapid', 'fatih046', 1801, 'Yriy37', 1776, 'e4,e5,Bc4,Nf6,Nf3,Bd6,d3,O-O,Bg5,Nc6,Nc3,Be7,Bb5,d6,h3,Nd4,Nxd4,exd4,Ne2,c5,O-O,Qb6,a4,a6,Bc4,Qxb2,Bb3,c4,Bc1,Qxa1,Bxc4,b5,axb5,axb5,Bxb5,d5,Nxd4,Qxd4,Be3,Qb4,Bc6,Ra6,exd5,Rxc6,dxc6,Qb5,c7,Nd5,Qh5,Bd7,c4,Nf6', 'Qxb5,Bxb5,cxb5', 'https://lichess.org/training/NBn97');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nbPjW', 'Rapid', 'tonytwins', 1843, 'hollebolle', 1833, 'd4,d5,Nf3,Nc6,e3,Nf6,Be2,Ne4,O-O,f5,b3,e6,Bb2,Bd6,Nbd2,O-O,c4,Bb4,a3,Be7,cxd5,exd5,Rc1,Bd6,b4,Qf6,Nb3,Be6,Qc2,Bf7,Nc5,Be8,Nxb7,g5,Nc5,g4,Nd2,Qh4,g3,Qh3,Rfe1,Rf6,Bf1,Qh5,Ncxe4,Rh6,Nf6+,Rxf6,Bb5,Rh6,Kf1,Qxh2', 'Bxc6,Bxc6,Qxc6', 'https://lichess.org/training/nbPjW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBpsf', 'Classical', 'Rune2008', 1756, 'svlk', 1753, 'd4,d5,Bf4,Nc6,e3,Bf5,Bd3,Bd7,Nd2,Nf6,Ngf3,e6,O-O,Bd6,Bg3,Bxg3,hxg3,O-O,c4,Ne7,Ne5,Ng6,Bxg6,fxg6,Rc1,c6,cxd5,cxd5,Qb3,Rb8,Rc3,a6,Rfc1,Bb5,a4,Be8,Rc7,b5,axb5,Bxb5,Qc3,Nd7,Nxd7,Bxd7,Qa3,Bb5,Qe7,Qxe7,Rxe7,Rfe8,Rcc7,Rxe7,Rxe7,Re8,Rc7,Kf8,Nf3,Re7,Rc5,Kf7,Ne5+,Kf6,f3,g5,Kf2,h5,g4,h4,g3,h3,Kg1,g6,f4,Rh7,Kh2,Bf1,fxg5+,Kxg5,Rc6,Rb7,Rc2,Rb3,Rf2,Bg2', 'Nf7+,Kxg4,Rf4+,Kh5,Rh4#', 'https://lichess.org/training/NBpsf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbQtJ', 'Blitz', 'MattRyan11', 1610, 'cesarushko', 1721, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,a6,Nf3,Bg4,Be2,e6,Ne4,Qd8,O-O,Nf6,Nfd2,Bxe2,Nxf6+,Qxf6,Qxe2,Qxd4,Nf3,Qb6,b3,Bd6,Be3,Qc6,Nd4,Qd7,Rad1,O-O,c4,c5,Nf3,Qc6,Ng5,h6,Nf3,Nd7,Nh4,Nf6,f4,Ne4,f5,Nc3,Qg4,Nxd1,f6,g6,Nxg6,Nxe3', 'Ne7+,Kh7,Qg7#', 'https://lichess.org/training/NbQtJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nbqWf', 'Rapid', 'Sonu7368', 1700, 'bat_of_doom', 1723, 'd4,Nf6,c4,e6,Nc3,Bb4,Qb3,Bxc3+,bxc3,O-O,Bg5,d6,e4,h6,Bh4,g5,e5,Ne4,Bg3,dxe5,Bxe5,f6,Bg3,f5,f3,Nxg3,hxg3,Qd6,Ne2,Kg7,O-O-O,Bd7,Rd2,Qa6,f4,Ba4,Qa3,Qxc4,Qe7+,Rf7,Qd8,Qc6,fxg5,Qd6,gxh6+,Kh7,Qxd6,cxd6,Nf4,Re7,Bc4,d5,Bb3,Bc6,Bc2,Nd7,g4,Nf6,gxf5,Ne4,Bxe4,dxe4,fxe6,Rf8,g3,e3,Re2,Bxh1,Rxe3,a5,d5,Rd8,c4,b5,cxb5,Kxh6,Rd3,Be4,Rd4,Bf3,d6,Ree8,d7,Re7,Ra4,Bg4,Rxa5,Bxe6,Ra6,Rdxd7,Rxe6+,Rxe6,Nxe6,Rb7,Nd4,Kg5,a4,Kg4,Ne2,Kf3,Nd4+,Kxg3,a5,Kf4,Kc2,Ke5,Kc3,Kd5,a6,Ra7,Nc6,Ra8,Kb4,Kd6,Kc4,Kc7', 'Kc5,Rh8,b6+', 'https://lichess.org/training/nbqWf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBqXa', 'Bullet', 'Swordfeesh', 2082, 'kraksenkov', 2003, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,a3,a6,Be3,Nf6,Be2,b5,O-O,Bb7,Nxc6,Bxc6,Bf3,h5,Qd2,Bd6,h3,Ng4,hxg4,hxg4,Bxg4', 'Bh2+,Kh1,Bg1+,Kxg1,Qh2#', 'https://lichess.org/training/NBqXa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBQxI', 'Rapid', 'aayush_om', 1736, 'SmoothChess777', 1850, 'd4,Nf6,c4,c5,d5,d6,Nc3,g6,Nf3,Bg7,Bg5,Nbd7,e3,O-O,Be2,a6,O-O,Re8,Re1,h6,Bxf6,Nxf6,Nd2,e6,dxe6,Rxe6,Bf3,Rb8,Nde4,Nxe4,Bxe4', 'Bxc3,bxc3,Rxe4', 'https://lichess.org/training/NBQxI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nBsgT', 'Blitz', 'sonofKaissa', 1988, 'hwlen', 1888, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Bd3,e6,O-O,c5,dxc5,Bxc5,Bg5,O-O,Qd2,Bd7,Rfe1,Bc6,Re5,h6,Bxf6,Qxf6,Rxc5,Bxf3,gxf3,Qxf3,Qc3,Qg4+,Kf1,b6,Rc7,Qf4,Ke2,Qxh2,Rf1,Qh5+,Ke1,a5,Rg1,e5,Bc4,Rad8,f3', 'Qh4+,Kf1,Rd1+,Ke2,Rxg1', 'https://lichess.org/training/nBsgT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nbSpz', 'Rapid', 'ashilov', 2120, 'woodpusher1976', 2085, 'e4,c5,Nc3,e6,g3,a6,Bg2,d6,d3,Nd7,f4,Be7,Nf3,Qc7,O-O,b5,h3,Bb7,g4,g6,Ne2,Ngf6,Ng3,h6,Qe1,O-O-O,Bd2,Qc6,b4,c4,Nd4,Qb6,Be3,Qc7,a4,e5,Nde2,d5,fxe5,Nxe5,d4,Ned7,e5,Ne4,Nxe4,dxe4,axb5,axb5,Rxf7,Nxe5,dxe5,Qxe5,Rf1,h5,Bf4,Qe6,g5,Rhf8,Qg3,h4,Qc3,Bd6,Bxd6,Qxd6,Rxf8,Rxf8,Nd4,Rd8,Ne2,Qb6+,Kh1,Qf2,Qe1,Qe3,c3,Rd2,Bf1', 'Qf3+,Bg2,Qxe2,Qxe2,Rxe2', 'https://lichess.org/training/nbSpz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nBt23', 'Blitz', 'Jungkook', 2140, 'movimi', 1627, 'Nf3,e6,d4,d6,c4,Ne7,Nc3,Ng6,g3,Be7,Bg2,O-O,O-O,a6,e4,f5,Re1,Nc6,d5,Nce5,Nxe5,Nxe5,dxe6,Bxe6,exf5,Bxc4,Bxb7,Rb8,Bd5+,Bxd5,Qxd5+,Kh8,Bf4,Bf6,Rad1,Rxb2,Kg2,Qd7,Ne4,Qxf5,Nxf6,gxf6,Qd4,Rfb8,Rd2,R8b4,Qxb2,Rxb2,Rxb2,Nd3,Rb8+,Kg7,Re7+,Kg6,Rg8+,Kh5,Rxh7+,Qxh7', 'g4+,Kh4,Bg3#', 'https://lichess.org/training/nBt23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBtXB', 'Classical', 'Kotopheich', 1757, 'xsteelll', 1685, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,Nf6,Ne5,e6,Bg5,Be7,cxd5,Nxd5,Bxe7,Nxe7,Qa4,O-O,O-O-O,Nd7,g4,Nb6,Qb3,Bg6,h4,h6,f4,Rc8,h5,Bh7,g5,Nf5,g6,fxg6,hxg6,Ne3,gxh7+,Kxh7,Rd3,Nxf1,Rxf1,Qh4,Rdf3,Nd5,e3,b5,Nxd5,cxd5+,Kd2,Qh2+,R1f2,Qg1,Qd3+,Kg8,Ng6', 'Qc1+,Ke2,Rc2+,Qxc2,Qxc2+', 'https://lichess.org/training/NBtXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nBuL3', 'Rapid', 'leonardo_rojas_CAQ', 1775, 'michael2006', 1777, 'c4,c5,Nc3,Nc6,g3,Nf6,Bg2,e6,Nf3,d5,cxd5,Nxd5,Nxd5,exd5,O-O,Be6,d4,cxd4,Nxd4,Bc5,Nxe6,fxe6,e4,dxe4', 'Qh5+,g6,Qxc5', 'https://lichess.org/training/nBuL3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NBUlG', 'Blitz', 'alanbenjo', 1779, 'Gunscha', 1704, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Ne5,Nc3,Nf6,Bg5,Be7,Be2,O-O,O-O,c6,f4,Ng6,e5,Nd5,Nxd5,cxd5,Bxe7,Qxe7,f5,Nxe5,f6,gxf6,Nf5,Qc5+,Kh1,d6,Bd3,Nxd3', 'Qg4+,Kh8,Qg7#', 'https://lichess.org/training/NBUlG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nbvGF', 'Rapid', 'maximusmaxi', 1815, 'Abdi_Blunder', 1766, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,g3,fxg3,O-O,gxh2+,Kh1,d6,Bxf7+,Kxf7,Ne5+,Ke7,Qh5,dxe5,Qxh4+,Ke8', 'Rf8+,Kxf8,Qxd8+', 'https://lichess.org/training/nbvGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nBw8B', 'Rapid', 'Woody49', 1636, 'rostislav01012001', 1600, 'e4,e5,Nf3,Nc6,d4,Nf6,d5,Ne7,Nc3,d6,Be2,c6,O-O,cxd5,Nxd5,Nxe4,Nxe7,Bxe7,Bb5+,Bd7,Bxd7+,Qxd7,Re1,Nf6,Bg5,Rd8,Qe2,O-O,Rad1,Nh5,Nxe5,Qf5,Bxe7,Nf4,Qg4,Qxc2,Qxf4,dxe5,Qf3,e4,Qe2,Rxd1', 'Qxd1,Qxd1,Rxd1', 'https://lichess.org/training/nBw8B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nBwaX', 'Blitz', 'manoa49', 1651, 'Lawkin', 1654, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,Bd6,c3,Nc6,Nbd2,Be7,Qb3,Rb8,c4,f6,cxd5,exd5,Bb5,h5,Qa4,g5,Bxc6+,bxc6,Qxc6+,Qd7,Qxd7+,Kxd7,Bxc7,Kxc7,O-O,Rxb2,Rac1+,Kd6,Rfe1,g4,Nh4,Rxd2,Nxf5+,Ke6,Ng7+,Kf7,Nf5,Nh6,Nxe7,Kxe7,Rc7+,Kd6,Rxa7,Rc8,Rb1,Rcc2,g3,Rxf2', 'Rb6+,Rc6,Rxc6+,Kxc6,Kxf2', 'https://lichess.org/training/nBwaX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbWIk', 'Rapid', 'Chessboi42069', 1848, 'LOLOBOB', 1847, 'e4,e5,Nf3,Nf6,Nc3,Bc5,h3,d6,Bc4,Be6,Bxe6,fxe6,d3,h6,O-O,O-O,Qe1,Nh5,Be3,Bb6,Bxb6,axb6,d4,exd4,Nxd4,Qf6,Rd1,e5,Ndb5,Na6,Nd5,Qf7,Ndc3,Rad8,a4,Nb4,Qe2,Nf4,Qd2,Nc6,Nd5,Qg6,Nxf4,Rxf4,Nxc7,Nd4,Kh1,Rdf8,Nd5,R4f7,c3,Ne6,Rde1,Nf4,Nxf4,Rxf4,Re3,Qf6,f3,Qh4,Qxd6,R8f6,Qxe5,Rg6,Qe8+,Kh7,Rd3,Qg3,Rd2,Rh4,e5,Rxh3+,gxh3', 'Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/NbWIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbY2B', 'Blitz', 'insipidlight', 1831, 'nachendo', 1796, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bg4,h3,Bh5,c3,a6,Ba4,b5,Bc2,h6,d3,Be7,Nbd2,Nf6,Qe1,O-O,d4,exd4,cxd4,Nh7,a3,Bg6,d5,Ne5,Nd4,Ng5,f4,Nxh3+,gxh3,Nd7,Qe2,Bh4,f5,Qg5+,Qg4,Qxg4+,hxg4,Bh7,N2f3,Bf6,g5,hxg5,Bxg5,Bxd4+,Nxd4,Ne5,Nf3,Nc4,b3,Nb6,Nd4,f6,Bf4,Nd7,Ne6,Rf7,Nxc7,Rc8,Nxb5,Rxc2,Nxd6,Rf8,Nc4,Re8,Rae1,Rc3,Nd6,Rd8,Re3,Rxe3,Bxe3,Ne5,Nc4,Ng4,Bd2,Rb8,Rf4,Ne5,Nxe5,fxe5,Rf3,Kf7,Kg2,Kf6,Kh3,Bg8,Kg4,Bf7,Rh3,a5,Bxa5,Ra8,Bb4,Rb8,Rg3,Rc8,Kh4', 'Rh8+,Kg4,Bh5+,Kh3,Bf3#', 'https://lichess.org/training/NbY2B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbYU0', 'Rapid', 'Kabitu', 1629, 'acms', 1613, 'd4,d6,c4,e6,Nc3,c6,g3,h6,Bg2,Be7,Nf3,Nf6,O-O,a6,e4,Nbd7,Re1,O-O,e5,dxe5,Nxe5,Nxe5,Rxe5,Nh7,Qg4,Kh8,Be4,Qxd4,Bf4,Nf6,Qh3,Bd6,Rg5,Bxf4,gxf4,Nxe4,Nxe4,Qxe4,Qh4,b5,h3,c5,Kh2,Bb7,Rag1,Rg8,Rxg7,Rxg7,Qxh6+,Rh7', 'Qf6+,Rg7,Qxg7#', 'https://lichess.org/training/NbYU0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nbZ1h', 'Blitz', 'ahaghighi', 1781, 'SCORPIO9749', 1795, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,Nxd4,Nxd4,cxd4,e5,dxe5,Qa5+,Bd2,Qxe5,Nc3,Bf5,Qa4+,Bd7,Qc2,Nf6,Bd3,Be7,O-O,O-O,f4,Qd4+,Kh1,Ng4,h3,Nf2+,Rxf2,Qxf2,e5,Bxh3,gxh3,Qf3+,Kg1,dxe5,Bxh7+,Kh8,Be4,Bc5+,Kh2,Qf2+,Kh1,exf4,Qc1,Rad8,Bxf4,f5,Be5,fxe4', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/nbZ1h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbzIq', 'Blitz', 'niekver', 1879, 'sas73', 1938, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Nf6,Ng3,e6,d4,Be7,Bd3,O-O,O-O,Nbd7,c3,Qc7,Qc2,e5,Bg5,exd4,Nxd4,h6,Ndf5,Bc5,Nxh6+,gxh6,Bxh6,Re8,Bc4,Ne5,Bb3,Be6,Qd2,Bxb3', 'Qg5+,Ng6,Qxf6,Qe5,Qxe5', 'https://lichess.org/training/NbzIq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NbzX4', 'Rapid', 'madGregor', 1648, 'behzadbehzad', 1657, 'd4,Nf6,Bg5,e6,e4,Be7,Bxf6,Bxf6,e5,Bg5,Nf3,Bh6,Bd3,Nc6,O-O,O-O,a3,g6,c4,d6,Re1,dxe5,dxe5,b6,Nc3,Bb7,Ne4,Bg7,Nf6+,Kh8,Ng5,Bxf6,exf6,Qxf6,Qg4,h6,Nxf7+,Rxf7,Rxe6,Qxf2+,Kh1,Nd4,Rxg6,Raf8', 'Rxh6+,Rh7,Rxh7#', 'https://lichess.org/training/NbzX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nc1fa', 'Rapid', 'Irvine_Rynox', 1866, 'ariann86', 1883, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,Ng5,d5,Bxd5,Be6,Bxe6,fxe6,Nxe6,Qd6,Nxc5,Qxc5,O-O,Nf6,c3,O-O-O,Re1,Rhe8,Bg5,Qxg5,cxd4,Rxd4,Qb3,Rexe4,Nc3,Rb4', 'Nxe4,Rxb3,Nxg5', 'https://lichess.org/training/nc1fa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nc3oC', 'Rapid', 'julianrey', 1993, 'Everestmate', 1748, 'd4,f5,Bf4,Nf6,e3,g6,Bc4,Bg7,Nf3,e6,Nbd2,O-O,c3,d6,O-O,Kh8,Re1,Qe8,e4,fxe4,Nxe4,Nxe4,Rxe4,d5,Bxd5,Rxf4,Rxf4,exd5,Qb3,c6,Re1,Qd8,Ne5,Kg8,Nf7,Qd7,Qb4,a5,Qb3,Na6,Qd1,Nc7,Qe2,Ne6,Rf3,b5,Ne5,Qd6,Nf7,Qd7,Ne5,Qd6,Ng4,Bd7,Nf6+,Bxf6,Rxf6,Re8,f4,Kg7,Qe5,Qxe5,fxe5,Rf8,Ref1,Rxf6,Rxf6,b4,g4,bxc3,bxc3,Ng5,h4,Ne4,Rf4,Nxc3,Kf2,Nxa2,h5,g5,Rf6,Nc3,Kf3,a4', 'h6+,Kg8,e6,Bxe6,Rxe6', 'https://lichess.org/training/Nc3oC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nc4nA', 'Blitz', 'And214', 1781, 'yazidblaaidi42', 1780, 'e4,c5,f4,g6,Nf3,Bg7,Be2,d6,c3,Nc6,O-O,Nf6,d3,h6,h3,a6,Kh2,b5,Be3,Bb7,Bf2,Rb8,Nbd2,Qa5,e5,dxe5,fxe5,Nd7,e6,fxe6,Nh4,g5,Ng6,Rf8,Bh5,Kd8,Nxf8,Bxf8,Bg3,e5,Ne4,Ba8,Nxc5,Nxc5,Rxf8+,Kc7,Bxe5+,Nxe5,Rxb8,Kxb8,d4,Qc7,dxe5,Qxe5+,Kh1,Kc7,Qd4,Qf5,Re1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/Nc4nA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nc4qi', 'Rapid', 'mrespeen', 1629, 'bluhm', 1618, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,Nc6,O-O,a6,d3,e6,Be3,Qc7,h3,Be7,a3,b6,Re1,O-O,Bg5,Bb7,b4,b5,Bb3,Nd4,bxc5,Qxc5,Be3', 'Nxf3+,Qxf3,Qxc3', 'https://lichess.org/training/nc4qi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NC5IF', 'Classical', 'AndySaffle', 1707, 'undeservedmate', 1769, 'd4,d5,c4,e6,Nc3,c5,Nf3,Nf6,Bg5,h6,Bxf6,Qxf6,e3,Nc6,cxd5,cxd4,Ne4,Qg6,Ng3,exd5,exd4,Bb4+,Nd2,Nxd4,Qa4+,Nc6,Rd1,Bg4,f3,Bd7,Be2,Nd4,Bb5,Nc2+,Kf1,Ne3+,Ke2,O-O,Bxd7,Qa6+,Bb5,Qe6,Qxb4', 'Nc2+,Kf1,Nxb4', 'https://lichess.org/training/NC5IF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nc6Tt', 'Rapid', 'anner1968', 1634, 'enielson', 1619, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,Bb3,a6,a4,Nxe4,Nxe4,Nxd4,Bg5,Nxb3,cxb3,Bxb2,Ra2,Bg7,Re2,f6,Bc1,b6,Ba3,d6', 'Qd5+,Kh8,Qxa8', 'https://lichess.org/training/nc6Tt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nc8mr', 'Classical', 'killer_rectangle', 1735, 'Lavacafe', 1778, 'e4,e6,Nf3,d5,exd5,exd5,Be2,Nf6,d4,Be7,O-O,O-O,c4,dxc4,Bxc4,Bg4,Be2,Nc6,Be3,Nd5,Nc3,Nxe3,fxe3,Bg5,Nxg5,Bxe2,Qxe2,Qxg5,Rf3,Rae8,Raf1', 'Nxd4,exd4,Rxe2', 'https://lichess.org/training/Nc8mr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NC8wH', 'Classical', 'jschwab21', 1615, 'gelemk', 1750, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,c4,Nf6,Nc3,g6,Bg5,Bg7,Qd2,O-O,h4,Bg4,Bh6,Kh8,Nh2,Bd7,Be2,Neg8,Bg5,h6,Be3,a6,g4,Nh7,O-O-O,b5,cxb5,axb5,Kb1,b4,Nb5,Bxb5,Bxb5,c5,g5,h5,b3,Qa5,Bc4,Ra7,Rc1,Rfa8,Rc2,Ne7,Rf1,Nf8,f4,Nd7,Nf3,Nb6,Bd3,Qa3,fxe5,Qxb3+,Kc1,Rxa2,Kd1,Rxc2,Bxc2,Ra1+,Ke2,Rxf1,Kxf1,Qa2,exd6,Nec8,Bxc5,Bc3,Qd1', 'Qc4+,Qd3,Qxc5', 'https://lichess.org/training/NC8wH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nc9zG', 'Blitz', 'CUCOLOTTO', 2159, 'monty82', 2330, 'Nf3,d5,c4,d4,b3,c5,Bb2,Nc6,e3,e5,exd4,exd4,d3,Nf6,Be2,Bd6,Nbd2,O-O,Ng5,Re8,Nge4,Nxe4,Nxe4,Bf8,O-O,f5,Nd2,Bd6,Bf3,Ne5,Bd5+,Kh8,Nf3,Ng4,h3,Nf6,Re1,Nxd5,Rxe8+,Qxe8,cxd5,Bd7,Qe1,Qf7,Ne5,Bxe5,Qxe5,Re8,Qc7,Qxd5,Ba3,Bc6,f3,h6,Rf1,Re2,Rf2,Rxf2,Kxf2,a6,Bc1,Kh7,Bf4,Bb5,Be5,Qg8,Qxc5,Bxd3,Qxd4,Bb5,a4,Bc6,Qe3,Qd5,Bb2,b5,Qc3,Qd7,axb5,Bxb5,g4,fxg4,hxg4,Qa7+,Kg2,Qe7,Kg3,Kg8,b4,Qd6+,Kh3', 'Bf1+,Kh4,Qh2#', 'https://lichess.org/training/nc9zG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ncAfa', 'Rapid', 'syl94563', 1808, 'Elenator', 1749, 'd4,d5,c4,dxc4,e3,b5,a4,Ba6,axb5,Bxb5,Nc3,c6,b3,cxb3,Bxb5,cxb5,Nxb5,Qb6,Qxb3,a6,Qd5,Nc6,Bd2,Rd8,Qc5,Qxc5,dxc5,axb5,Nf3,e6,Ra6,Nb8,Rb6,Bxc5,Rxb5,Na6,Ra5,Bb4,Rxa6,Bxd2+,Nxd2,Nf6,Nf3,O-O,O-O,Ne4,Ra7,h5,h3,Nd2,Nxd2,Rxd2,Rfa1,g5,R1a5,Rd5,Rxd5,exd5,Rd7,Kg7,Rxd5,Kg6,Kf1,Rc8,Rd4,Rc1+,Ke2,Rg1,Kf3,f5,g3,g4+,hxg4,hxg4+,Ke2,Kg5,Rd1,Rg2,Kf1,Rh2,Kg1,Rh6,Kf1,Rh2,Ke2,Rg2,Rd8,Kf6,Rh8,Ke5,Rh4,Ke4,Kf1', 'Kf3,e4,Rxf2+', 'https://lichess.org/training/ncAfa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NCArL', 'Rapid', 'Siarhe', 1806, 'doosra', 1806, 'e4,e5,f4,exf4,Bc4,Be7,Nf3,Bh4+,Kf1,d6,Nc3,Bg4,d4,Nc6,Ne2,Be7,Bxf4,Qd7,Bg5,f6,Be3,O-O-O,c3,g5,h4,gxh4,Rxh4,f5,Ng5,fxe4,Rxg4,Qxg4', 'Be6+,Qxe6,Nxe6', 'https://lichess.org/training/NCArL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NCAti', 'Rapid', 'Gandall', 1812, 'izygeezy', 1794, 'e4,c5,Nf3,Nc6,Bb5,a6,Bc4,b5,Bd5,Bb7,Ne5,e6,Bxc6,dxc6,O-O,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/NCAti');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ncbH8', 'Rapid', 'yasindastani', 1623, 'thephenom', 1948, 'e3,d5,d4,Bf5,g4,Be4,f3,Bg6,h4,h6,h5,Bh7,a4,e6,Bb5+,c6,Bf1,Bd6,Rh3,Nd7,Bd2,Ngf6,Na3,a6,c4,Qc7,Ne2,Bxa3,Rxa3,dxc4,Ng3,Nb6,a5,Nbd5,Bxc4,Rd8,Nf1,Ng8,e4,Nf4,Rh2,Rxd4,Bxf4', 'Rxd1+,Kxd1,Qxf4', 'https://lichess.org/training/ncbH8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCdQb', 'Rapid', 'koureas25', 1906, 'Kasisam', 1812, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,b5,Nc3,Bb7,Bd3,e6,a3,Bc5,Nb3,Bb6,Qg4,Qf6,O-O,h5,Qg5,Nh6,e5,Qxg5,Bxg5,Ng4,Be4,Nc6,Bf4,Ra7,Bxc6,Bxc6,Nd1,Be4,c3,Nh6,Nd2,Bd5,Ne3,Bxe3,Bxe3,Rc7,Rac1,Nf5,Bb6,Rc6,Ba5,O-O,b3,Rfc8,Rc2,Nh4,f3,Nf5,Rfc1,Ne3,Rb2,f5,Kf2,f4,Ne4,Bxe4,fxe4,Kf7,g3,g5,h4,Kg6,hxg5,Kxg5,gxf4+,Kxf4,c4,Ng4+,Kg1,Kxe5,Rbc2,bxc4,Rxc4,Rxc4,bxc4,Kxe4,Kg2,Kd4,c5,Kd5,Rd1+,Kc6,Bb6,Rf8,Rd6+,Kb5,Rxd7,Ne5,Rh7,Rf5,Re7,Nd3,Rxe6', 'Nf4+,Kh2,Nxe6', 'https://lichess.org/training/nCdQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCdvX', 'Rapid', 'barzo1969', 1797, 'Dose92', 1870, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Qd4,Nf6,e5,Nd5,e6,f6,c4,Nc7,Be2,Nxe6,Qe3,Bg7,O-O,Ba6,Nc3,O-O,b3,f5,Bb2,Qb6,c5,Qxc5', 'Bxa6,Qxe3,fxe3', 'https://lichess.org/training/nCdvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCF0q', 'Rapid', 'Esmaill', 1809, 'qutebh82', 1688, 'e4,e5,d4,exd4,f4,Nc6,Nf3,Bc5,Bc4,Nge7,Bxf7+,Kxf7,Ng5+,Kg8,c3,h6,Qb3+,d5,exd5,Nxd5,Nf3,Qe7+,Ne5,Nxe5,Qxd5+,Nf7+,Kd1,Bg4+,Kc2,Qe2+,Bd2,dxc3,bxc3,Be3,Re1,Qf2,Rxe3,Rd8,Qc5,b6', 'Re8+,Rxe8,Qxf2', 'https://lichess.org/training/nCF0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCgia', 'Rapid', 'shikantaza', 1844, 'sonar_2', 1906, 'e4,e5,Nf3,Nf6,Nc3,Bc5,h3,Nc6,Bc4,O-O,a3,a6,d3,b5,Bb3,h6,O-O,Bb7,Ne2,d5,exd5,Nxd5,Ng3,Nf6,c3,Bd6,Re1,Re8,Bd2,Qd7,Qc1,Bc5,d4,exd4,cxd4,Nxd4,Rxe8+,Rxe8,Bxf7+,Kxf7,Qxc5,Nxf3+,gxf3,Bxf3,Qf5,Qxd2,Qxf3,Qxb2,Rd1,Qc2,Nh5,Re6,Rd7+,Kg8,Rxg7+,Kh8,Qa8+,Re8,Qxa6,Re1+,Kh2', 'Qxf2+,Rg2,Ng4+,hxg4,Qh4#', 'https://lichess.org/training/nCgia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NCGy9', 'Rapid', 'alexvasilich', 1764, 'jvg1997', 1756, 'd4,d5,Nf3,Bf5,h3,Nc6,a3,h6,Bf4,Nf6,Nbd2,e6,e3,a6,c3,Bd6,Ne5,O-O,g4,Be4,Rg1,Bxe5,Bxe5,Nxe5,dxe5,Nd7,Nf3,Bxf3,Qxf3,Nxe5,Qf4,Qd6,g5,Ng6,Qxd6,cxd6,gxh6,gxh6,O-O-O,Kh7,Bd3,f5,Be2,e5,Bh5,Rg8,Rg3,Ne7,Bf7,Rxg3,fxg3,d4,exd4,exd4,cxd4,Nc6,d5,Ne5,Be6,Rf8,Kb1,f4,gxf4,Rxf4,Rc1,Kg6,Rc7,Nd3,Rxb7,Rf1+,Ka2,Nc1+,Kb1,Nd3+,Kc2,Nc5,Rb6,Rf2+,Kc3', 'Na4+,Kb4,Nxb6', 'https://lichess.org/training/NCGy9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nchEd', 'Classical', 'g4lois', 1914, 'fuubian', 1822, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,c5,dxc5,d4,Ne4,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Nf3,Nc6,g3,e5,Bg2,O-O,O-O,Qe7,a3,Qxc5,Qc2,Qe7,Rad1,Be6,Nd2,Rab8,f4,exf4,Rxf4,Rfd8,Nb3,Ne5,Rfxd4,Rxd4,Rxd4,Qf6,Rf4,Qg5,Nc5,b6,Nxe6,fxe6,Re4,Rf8,Qc3,Qf5,Qxe5', 'Qf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/nchEd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nChen', 'Blitz', 'VictorReyes', 1746, 'vitamminn', 1767, 'e4,c6,d4,d6,Nf3,g6,g3,Bg7,c3,Nf6,Qd3,O-O,Bf4,b6,Bg2,d5,e5,Nfd7,Ng5,c5,Nd2,e6,h4,c4,Qe3,b5,h5,h6,hxg6,hxg5,Bxg5,f6,exf6,Nxf6,O-O-O,Qa5,g4,Nxg4,Qh3,Rxf2,Qxg4,Qxa2,Qh4,Rxg2,Qh7+,Kf8,Be7+,Kxe7,Qxg7+,Kd6,Qe5+,Kd7', 'Rh7+,Kc6,Qc7#', 'https://lichess.org/training/nChen');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCjbd', 'Blitz', 'Berty82', 2095, 'ebrahimhasani64', 1771, 'd4,d5,Bf4,Bf5,Nf3,e6,c3,Bd6,e3,Bxf4,exf4,Qd6,g3,Nf6,Bd3,Be4,Qe2,Bxf3,Qxf3,Nc6,Nd2,a6,O-O,h5,h4,Ng4,Rfe1,Ne7,Rad1,O-O-O,Bf1,Nf5,Bh3,g6,Bxg4,hxg4,Qxg4,Rdg8,Re5,Qb6,b4,Qc6,Qf3,Nxh4,gxh4,Rxh4,Kf1,Qc4+,Qe2', 'Rh1+,Kg2,Qxe2,Rxe2,Rxd1', 'https://lichess.org/training/nCjbd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NckWM', 'Rapid', 'paqash', 1953, 'MedinoBrdo', 1965, 'd4,Nf6,c4,d6,Nc3,c6,Bf4,h6,Nf3,Bf5,Qb3,Qc8,e3,Nh5,Bg3,Nxg3,hxg3,Nd7,e4,Bg6,Nh4,Bh7,f4,Qc7,Be2,e6,f5,exf5,exf5,Be7,Bh5,O-O,c5,d5,Ne2,Bxh4,gxh4,Bxf5,O-O,Bh7,Rf4,Rae8,Raf1,Rxe2,Bxe2,Nf6,Qg3,Ne4,Qg4,Qe7,Bd3,Nd2,Bxh7+,Kxh7,R1f2,Kh8,Rxd2,Qe1+,Kh2,Qxd2,Qf3,Kg8,Rg4,f5,Rf4,Qc2,Kh3,Rf7,g4,g5,hxg5,hxg5,Rxf5', 'Rh7+,Kg3,Qh2#', 'https://lichess.org/training/NckWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCL1e', 'Blitz', 'Loerabbit', 2123, 'chessgoodwinssyr', 2086, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,c6,Nf3,Nf6,h3,Bf5,Bd3,Bxd3,Qxd3,Nbd7,O-O,O-O-O,Be3,h6,Rad1,Qc7,Qc4,e6,Rfe1,Bd6,b4,Nb6,Qb3,g5,a4,g4,hxg4,Nxg4,a5,Nd5,Nxd5,exd5,c4,Nxe3,Rxe3,Bf4,Rc3,Qe7,Re1,Qf6,b5,Rhg8,bxc6,b6,axb6,Rxg2+,Kxg2,Rg8+,Kf1,Qf5,bxa7,Qh3+,Ke2,Re8+,Ne5,Qh5+,f3,Qh2+,Kf1,Qh1+,Kf2,Qh2+,Kf1,Qh1+,Ke2', 'Qg2+,Kd1,Qd2#', 'https://lichess.org/training/nCL1e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCoRE', 'Rapid', 'gabrilele', 1687, 'johnjshaposka', 1725, 'e4,c5,Nf3,g6,d4,Bg7,Be3,Nc6,Nc3,d6,d5,Ne5,Nxe5,Bxe5,Qd2,a6,O-O-O,b5,a3,b4,axb4,cxb4,Na4,Qa5,b3,Bd7', 'Bb6,Qxa4,bxa4', 'https://lichess.org/training/nCoRE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCPsV', 'Rapid', 'JGreen', 1640, 'ahoora58', 1699, 'e4,e5,Nf3,Nc6,Bb5,d5,exd5,Qxd5,Nc3,Qe6,O-O,Bd6,Re1,Bd7,d4,O-O-O,dxe5,Nxe5,Nxe5,Bxe5,Bxd7+,Rxd7,Qh5,f6,Bf4,g6,Qe2,Re7,Bxe5,fxe5,Rad1,Nh6,h3,Nf5,Nb5,Kb8,Nd4,Nxd4,Rxd4,Rhe8,Re4,Qf5,g4,Qf6,Kg2,h5,Kg3,h4+,Kg2,g5,Qb5,Qc6,Qxc6,bxc6,R1e3,a5,Ra3,Kb7,Rxa5,Kb6,Ra3,c5,Kf3,Rf8+,Ke2,Ref7,f3,Re7,Rae3,Rfe8,Kd3,Kc6,Kc4,Kd6,a4,Ra8,b3,Rb8,Rd3+,Kc6,Rd5', 'Rb4+,Kc3,Kxd5', 'https://lichess.org/training/nCPsV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ncq20', 'Blitz', 'mussITA', 1585, 'SRSPA', 1537, 'e4,Nc6,d4,e6,Nf3,Be7,Be2,b6,O-O,Bb7,c3,Nf6,Nbd2,d6,a3,Qd7,b4,O-O-O,a4,h5,a5,Kb8,Bb5,a6,axb6,axb5,bxc7+,Kxc7,Qc2,Ra8,Nb3,Nxe4,Qxe4,Nxb4,Qf4,Bf6,Rxa8,Rxa8,Bd2,Nd5,Qg3,Ra3,Nc1,Nxc3,Bxc3,Rxc3,Ne2,Ra3,Rc1+,Kd8,Nf4,Bxd4,Nxh5,Qc6,Rxc6', 'Ra1+,Rc1,Rxc1+,Ne1,Rxe1#', 'https://lichess.org/training/ncq20');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NcQOU', 'Blitz', 'Perdak239', 1581, 'SergeyMarkelov', 1741, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Bb4,Nf3,d6,Bd3,Bg4,O-O,Nc6,Be3,Ne5,Nd5,Bc5,Bf4,Nxf3+,gxf3,Bh3,Re1,c6,b4,Bd4,Bc2,Bxa1,Qxa1,cxd5,Qxg7,Qf6,Ba4+,Kd8,Qf8+,Kc7,Rc1+,Kb6,Be3+,d4,Qxa8,Nh6,Bxd4+,Qxd4', 'Rc6+,bxc6,Qxc6#', 'https://lichess.org/training/NcQOU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCqpM', 'Rapid', 'b9b', 1977, 'juanchi10', 2021, 'd4,c6,c4,d5,e3,Nf6,Nc3,Bf5,Qb3,Qb6,c5,Qxb3,axb3,Nbd7,b4,e5,Nf3,e4,Nd2,Be7,Be2,O-O,O-O,a6,f3,Bg6,fxe4,dxe4,Rf4,Nd5,Rf2,N7f6,Bd1,Nxc3,bxc3,Nd5,Nb1,Bg5,Re2,Rfe8,Bb3,Re6,g3,Rf6,Bxd5,cxd5,Na3,Bh5,Re1,Rf3,c4,Rd8,cxd5,Rxd5,Nc4,Bd8,Ra2,Bg6,Ne5,Rf5,Rf2,Bc7,Rxf5,Bxf5,Nc4,Bg6,g4,f5,gxf5,Bxf5,Rf1,Bg6,Bd2,Rg5+,Kh1,Rh5,Rf2,Bf7,Na5,Bxa5,bxa5,Bd5,Be1,Rh3,Re2,Kf7,Bg3,Rh6,Be5,Rg6,Rf2+,Ke7,Bg3,Rf6', 'Bh4,Kf7,Bxf6', 'https://lichess.org/training/nCqpM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCriu', 'Rapid', 'bkayaa23', 1878, 'batuak10', 1898, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,Bd6,Qb3,O-O,Ng5,Qe7,O-O,exd4,cxd4,Nxd4,Qd3,c5,Nc3,h6,Nf3,Nxf3+,Qxf3,Be5,Bd2,d6,h3,a6,Rad1,b5,Bb3,b4,Nd5,Nxd5,Bxd5,Bb7,Rfe1,Bxb2,Qg4,Kh8,Bf4,Bc3,Re2,Bxd5,exd5,Qf6,Rd3,Rfe8,Rxe8+,Rxe8,Rg3,Be5,Bxe5,Qxe5,Kh2,f5,Qg6,f4,Rg4,f3+,g3,Re7,Rf4,Kg8,Rg4,Qxd5,Qxh6,Qe6', 'Rxg7+,Rxg7,Qxe6+', 'https://lichess.org/training/nCriu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NCSmc', 'Blitz', 'AgReSif_CheSS', 2138, 'ctmntlds', 2149, 'e4,d6,d4,Nf6,Nc3,e5,Nf3,Nbd7,dxe5,dxe5,Bc4,Bd6,O-O,a6,a4,Nc5,Qe2,Be6,b4,Bxc4,Qxc4,Ne6,Ng5,Nxg5,Bxg5,h6,Bxf6,Qxf6,Nd5,Qe6,c3,O-O,Rad1,Rac8,Qe2,c6,Nb6,Rcd8,c4,Bxb4,Rxd8,Rxd8,Rd1,Qe7,g3,Bc5,a5,Bd4,Kg2,Qc5,Qa2,g5,h4,g4,h5,Kh7,Rd3,Rg8,f3,f5,exf5,gxf3+,Rxf3,e4,Rf1,Qe5,Qb3,e3,Rf3,e2,Nd7,Qe4,c5,e1=Q,Qf7+,Rg7,Nf8+,Kh8,Ng6+,Rxg6', 'Qf8+,Rg8,Qxh6#', 'https://lichess.org/training/NCSmc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NCTVP', 'Classical', 'Nouf13', 1677, 'Phallanxar', 1741, 'd4,d5,c4,dxc4,e4,b5,Nc3,a6,a4,c6,axb5,cxb5,Nxb5,Bd7,Bxc4,e5,d5,Bc5,d6,Bxb5,Bxb5+,Nd7,Rxa6', 'Rxa6,Bxa6,Qa5+', 'https://lichess.org/training/NCTVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NCuv9', 'Rapid', 'konstantin10', 1810, 'MrN0b0dy227', 1837, 'e4,c5,Bc4,e6,c3,Nf6,d4,Nxe4,d5,Nd6,dxe6,Nxc4,exf7+,Kxf7,Qd5+,Kf6,Qxc4,d5', 'Qh4+,Kf7,Qxd8', 'https://lichess.org/training/NCuv9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ncUxU', 'Rapid', 'QUEENKING91', 1829, 'Wiss10', 1807, 'b3,d5,Bb2,Nf6,Bxf6,exf6,d4,g6,c3,Bg7,e3,O-O,h3,Nc6,b4,Bf5,Bd3,Qd7,Bxf5,Qxf5,Ke2,a5,b5,Ne7,Qd3,c6,Qxf5,Nxf5,g4,Nd6,a4,Ne4,bxc6,bxc6,Nf3,Rab8,Ra2', 'Rxb1,Rxb1,Nxc3+', 'https://lichess.org/training/ncUxU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCwG9', 'Blitz', 'Deepimpacted', 2110, 'grezende', 1620, 'e3,e5,d4,e4,c4,c6,Nc3,f5,Nh3,Nf6,Nf4,Bb4,Nh5,g6,Nxf6+,Qxf6,Be2,b6,O-O,Bb7,d5,Na6,Qb3,O-O-O,a3,Bd6,Rd1,Qh4,g3,Qh3,dxc6,dxc6,Qc2,Nc5,b4,Nd3,c5,Bc7,Bxd3,exd3,Rxd3,Rxd3,Qxd3,Rd8,Qf1,Qg4,Bb2,bxc5,bxc5,Kb8,Rd1,Rxd1,Qxd1,Qxd1+,Nxd1,Ba6,Bd4,Bb5,Nc3,a5,a4,Bc4,Kg2,Kc8,Kh3', 'Bf1+,Kh4,Bd8+,Bf6,Bxf6#', 'https://lichess.org/training/nCwG9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ncWGy', 'Rapid', 'Barbaricyam1208', 1921, 'Franso', 1957, 'c4,e5,Nc3,f5,Nf3,Nc6,e4,Nf6,exf5,Bc5,d3,d6,Bg5,Bxf5,Bxf6,Qxf6,Nd5,Qf7,Be2,O-O-O,a3,e4,dxe4,Bxe4,O-O,h6,b4,Bb6,b5,Nd4,Nxd4,Bxd5,cxd5,Qxd5,Nc6,Qxd1,Nxa7+,Bxa7,Raxd1,g5,a4,h5,Rc1,g4,a5,Bc5,a6,b6,a7,Kb7,Ra1,Ra8,Kh1,Rxa7,f3,Rxa1,Rxa1,Re8,Ra2,gxf3', 'Bxf3+,c6,Bxc6+', 'https://lichess.org/training/ncWGy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ncX7D', 'Blitz', 'Arkangeluz', 2183, 'NM LentoViolento2020', 2297, 'd4,d5,c4,c6,Nc3,e6,Nf3,dxc4,e4,b5,a3,Bb7,Be3,Nd7,Be2,a6,g4,c5,d5,exd5,Nxd5,Ngf6,Bg5,Be7,Nxe7,Qxe7,Qc2,Bxe4,Qc3,h6,Bxf6,Qxf6,Qe3,Qe7,O-O-O,O-O-O,Nd2,Rhe8,Rhe1,Bb7,Qg3,Qe5,f4,Qe3,Bf3,Qd3,Rxe8', 'Rxe8,Bxb7+,Kxb7,Nf1,Qxg3', 'https://lichess.org/training/ncX7D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NcxgF', 'Rapid', 'Marks31', 1782, 'Pimenov', 1821, 'd4,d5,Nc3,c5,e4,e6,exd5,exd5,Qe2+,Be7,dxc5,Nf6,Bg5,O-O,O-O-O,d4,Bxf6,Bxf6,Qf3,Be5,Bc4', 'Qg5+,Kb1,dxc3', 'https://lichess.org/training/NcxgF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCxQX', 'Blitz', 'NM mnmassari', 2176, 'AnnaRed', 2202, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bd3,Bd6,h3,O-O,Nge2,Re8,O-O,c6,Bf4,Be6,Qd2,h6,a3,Bf8,Rfe1,Qd7,Kh2,Bf5,Rad1,Bxd3,Qxd3,Ne4,Ng3', 'Nxf2,Qf1,Nxd1', 'https://lichess.org/training/nCxQX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nCyey', 'Blitz', 'The_Matrix_Chess', 1869, 'CM samidescalona2002', 2417, 'e4,c5,Nf3,d6,Nc3,a6,d4,cxd4,Nxd4,Nf6,Be3,e5,Nf5,d5,Bg5,Bxf5,Nxd5,Be6', 'Nxf6+,gxf6,Qxd8+,Kxd8,Bxf6+', 'https://lichess.org/training/nCyey');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NcYQU', 'Classical', 'mrgoldenfold', 1763, 'postit', 1788, 'd4,g6,e4,Bg7,c4,e6,d5,b6,Nc3,Ne7,Bg5,h6,Bxe7,Qxe7,Nf3,Bb7,e5,c6,d6,Qd8,b4,c5,Nb5,Bxf3,Qxf3,O-O,Qxa8,Qg5,Qf3', 'Qxe5+,Be2,Qxa1+', 'https://lichess.org/training/NcYQU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ncYtR', 'Bullet', 'doctoro1959', 2031, 'RDG76', 2025, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bd3,Qb6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nc3,Qb6,Kh1,Ne7,a3,Ng6,f4,Be7,Qe2,O-O,f5,exf5,Nxd5,Qd8,Bd2,Bc6,Nxe7+,Qxe7,Bc3,Nh4,Rf2,Rad8,Bxf5,Nxf5,Rxf5,Qe6,Raf1,Rd7,Qg4,Rfd8,h4,g6,h5,Rd1,Rxd1,Rxd1+,Qxd1,Qxf5,e6', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/ncYtR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nD242', 'Rapid', 'Roman-Manzhura', 1640, 'Shund4', 1638, 'e4,c5,Nf3,Nc6,Bb5,e6,O-O,Nge7,c3,a6,Ba4,b5,Bb3,Bb7,d4,cxd4,cxd4,Ng6,Bg5,Be7,Bxe7,Qxe7,Re1,Na5,Bc2,Nc4,d5,Nxb2,Qd4,Nc4,Nc3,O-O,Bb3,d6,Bxc4,e5,Qd3,bxc4,Qxc4,Rfc8,Qb3,Rab8,Rad1,Nf4,g3,Bxd5', 'Nxd5,Nxd5,Qxd5', 'https://lichess.org/training/nD242');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nd6ww', 'Rapid', 'mehrdadfoomani', 1739, 'CarleyL', 1718, 'd4,d6,c4,a6,Nf3,g6,Bf4,Bg7,e3,Nf6,Bd3,O-O,O-O,b6,b4,Bb7,Nc3,Nfd7,d5,Bxc3,Rb1,Bg7,Re1,Nf6,a3,c6,e4,cxd5,exd5,Nbd7,h3,Nh5,Bh2,Re8,g4,Nhf6,Qc2,e6,Bxd6,exd5,Rxe8+,Nxe8,c5,bxc5,bxc5,d4,Rxb7,Rc8,a4', 'Nxd6,Rxd7,Qxd7', 'https://lichess.org/training/nd6ww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nD6wZ', 'Rapid', 'Cronos79', 1695, 'CHECK-ers', 1699, 'd4,Nf6,Nf3,d5,e3,e6,Bd3,Bd6,O-O,Nbd7,b3,a5,Bb2,c5,a4,cxd4,Bxd4,e5,Bb2,b6,Be2,Bb7,c4,O-O,Nbd2,Re8,cxd5,Bxd5,Bc4,Bc6,e4,Nxe4', 'Nxe4,Bxe4,Qxd6', 'https://lichess.org/training/nD6wZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nd6yn', 'Blitz', 'Ajedrecitos', 1548, 'chidyamanheru', 1507, 'e4,e5,Nf3,Bc5,Nxe5,Bxf2+,Kxf2,Nf6,d3,d6,Nf3,c6,h3,Qb6+,Be3,Qxb2,Nbd2,O-O,a4,Be6,Be2,Nbd7,Qb1,Qc3,Qb3,Qa5,Qxb7,Qh5,Nd4,Qh4+,g3,Nxe4+,Nxe4,Qd8,Qxc6,d5,Nd6,Qf6+,Kg2,Ne5,Qc3,Qg6,Nf3,Nxf3,Bxf3,Rad8,Nb5,a6,Nd4,f5,Nxe6,Qxe6,Qd4,Qg6,Rae1,h6,Bxd5+,Kh8,Qc4,Rc8,Qb3,f4,Bxf4,Rxf4,Bf7,Qg5,Re8+,Rxe8,Bxe8,Rf8,Bc6', 'Qd2+,Kg1,Qf2#', 'https://lichess.org/training/nd6yn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nd759', 'Rapid', 'spryZEN2014', 1907, 'Canario_roxo', 2077, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,Bc4,O-O,O-O,Nxe4,Bxf7+,Rxf7,Nxe4,Bxd4,Bxd4,d5,Ng5,Rf5,f4,e5,Be3,exf4,Bxf4,Rxf4,Rxf4,Qxg5,Qf3,Be6,Re1,Re8', 'Rxe6,Rxe6,Rf8+', 'https://lichess.org/training/nd759');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ndAEL', 'Rapid', 'borisr', 1771, 'VitorCrespo01', 1601, 'Nf3,h5,c4,h4,h3,a5,d4,a4,e4,e6,Bd3,a3,bxa3,Nc6,c5,d6,d5,Ne5,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/ndAEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NDB4Q', 'Blitz', 'BrandoliniChess', 2360, 'IM Themagic79', 2461, 'd4,Nf6,c4,c5,d5,b5,Nd2,d6,b3,b4,Bb2,a5,e4,g6,Ngf3,Bg7,e5,dxe5,Bxe5,O-O,Bd3,a4,O-O,Nbd7,Qe2,Nxe5,Nxe5,Qc7,Rae1,e6,dxe6,Bxe6,Bb1,axb3,axb3,Rfd8,Ndf3,Ng4,Nxg4,Bxg4,h3,Bc8,Be4,Ra3,Qc2,Bb7,Bxb7,Qxb7,Ng5,Bc3,Re3,Qd7,Rf3,f5,g4,Qe7,h4,Rd2,Qc1,fxg4,Rxc3,bxc3,Qxa3,g3,Qa8+,Kg7,fxg3,c2,Qa1+,Kh6,Qc1,Qe3+,Kh1,Kh5,Nf3,Qxf3+', 'Rxf3,Rd1+,Rf1', 'https://lichess.org/training/NDB4Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NdBaO', 'Rapid', 'uafz', 1974, 'plota', 1835, 'e4,e5,Nf3,d6,Nc3,Be7,d4,exd4,Nxd4,Nf6,Bc4,a6,O-O,b5,Bd3,O-O,Bf4,Bb7,Nf5,b4,Nd5,Bxd5,exd5,Nxd5,Qg4,Nxf4', 'Qxg7#', 'https://lichess.org/training/NdBaO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDbdw', 'Rapid', 'gilzzza', 1929, 'tripletta', 1873, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bg4,h3,Bh5,Be3,Bd6,Bd3,Nc6,Nbd2,Nge7,c3,Qd7,b4,O-O-O,b5,Nb8,a4,f6,a5,Nf5,b6,a6,bxc7,Bxc7,Bxf5,Qxf5,g4,Bxg4,hxg4,Qxg4,Qb3,Rde8,Rb1,Rxe3+,fxe3,Bg3+,Kd1,Qd7,c4,Nc6,cxd5,Nxa5,Qb6,Bc7,Qc5,Kb8,Qb4,Qxd5,e4,Qd7,Rh5,g5,Rh1,h5,Ke2,g4,Nh4,Re8,Kd3,Bd8,Rhc1,Nc6,Qa4', 'Ne5+,Ke2,Qxa4', 'https://lichess.org/training/nDbdw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NdD4f', 'Rapid', 'Gerda', 2017, 'fastfoodfish', 1719, 'Nf3,c6,d4,d5,c4,Nf6,Nc3,dxc4,a4,Bf5,e3,e6,Bxc4,Be7,O-O,O-O,h3,Bg6,Ne5,Nbd7,Nxg6,hxg6,a5,Nd5,Ne2,N7f6,Ng3,b5,axb6,axb6,Bd2,Qd7,e4,Nc7,Be3,c5,Rxa8,Rxa8,dxc5,Bxc5,Bxc5,bxc5,Qxd7,Nxd7,Rd1,Nf6,Rc1,Kf8,Bf1,Ra5,f3,Ke7,Ne2,Kd6,Nf4,Ra2,Rc2,Kc6,Nd3,Nd7', 'Nb4+,Kb6,Nxa2', 'https://lichess.org/training/NdD4f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NddFz', 'Blitz', 'miramipeonazo', 2386, 'FM joflo', 2475, 'f4,Nh6,Nc3,d5,e3,g6,Nf3,Bg7,Ne2,Bg4,Ng3,O-O,Be2,Nd7,d4,Nf6,Ng5,Bxe2,Qxe2,e6,c3,Nf5,e4,dxe4,N3xe4,h6,Nxf6+,Qxf6,Ne4,Qh4+,g3,Qe7,h4,c5,dxc5,e5,g4,Nxh4,f5,gxf5,gxf5,Nxf5,Qg4,Qe6,Rg1,Kh7,Nd6,Rg8,Qxf5+,Qxf5,Nxf5,Bf6,Rf1,Rg2,Bxh6,Rxb2,O-O-O,Rxa2,Rd7', 'Ra1+,Kc2,Rxf1,Rxf7+,Kg6', 'https://lichess.org/training/NddFz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ndDlG', 'Rapid', 'SantosTB', 1776, 'bigiggye', 1713, 'c4,Nf6,Nc3,b6,d4,Bb7,Bg5,d5,Bxf6,exf6,cxd5,Bxd5,Nxd5,Qxd5,a3,Nc6,Nf3,Qa5+,b4,Nxb4,axb4', 'Bxb4+,Nd2,Bxd2+,Qxd2,Qxa1+', 'https://lichess.org/training/ndDlG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NdE04', 'Rapid', 'LimpFischer', 2140, 'ikhsan809', 2162, 'd4,Nf6,c4,e5,dxe5,Ne4,Nf3,Bb4+,Nbd2,Nc6,a3,Bxd2+,Bxd2,Qe7,e3,Nxe5,Be2,d6,O-O,Be6,Qa4+,Bd7,Qb3', 'Nxf3+,Bxf3,Nxd2', 'https://lichess.org/training/NdE04');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDf9h', 'Bullet', 'Sqatles', 2587, 'NM Jessejames88', 2520, 'e4,c5,Nf3,e6,b3,Nf6,e5,Nd5,Bb2,Nc6,g3,Be7,Bg2,O-O,c4,Ndb4,O-O,Nd3,Bc3,f6,exf6,Bxf6,Qe2,Ndb4,a3,Nc2,Ra2,N2d4,Bxd4,Bxd4,Nc3,d5,Rc2,Kh8,h3,Bxc3,Rxc3,d4,Rcc1,Re8,d3,e5,Nd2,Bf5,Ne4,Qe7,Kh2,Rf8,Rce1,Rae8,g4,Bg6,Qd2,Rf4,Ng3,Ref8,Re2,Qd6,Rfe1,h6,Be4,Be8,Bf5,Qe7', 'Qxf4,exf4,Rxe7', 'https://lichess.org/training/nDf9h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NDgF9', 'Classical', 'sadramahdizadeh', 1893, 'kwlkwl', 1958, 'e4,e6,Nf3,d5,d3,dxe4,Ng5,exd3,Bxd3,Be7,h4,Nf6,g3,Nc6,Nc3,h6,Nge4,Nd4,Be3,e5,Nxf6+,Bxf6,Ne4,Be7,O-O,O-O,Qh5,g6,Qxe5', 'Nf3+,Kg2,Nxe5', 'https://lichess.org/training/NDgF9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDgg9', 'Rapid', 'JK_4747', 1688, 'Fun2playchess', 1625, 'e4,e5,Bc4,Nf6,d3,Nc6,Nf3,h6,Be3,d5,exd5,Nxd5,Bd2,Be6,O-O,Bd6,Bxd5,Bxd5,Nc3,Be6,Qc1,O-O,Nb5,a6,Nxd6,cxd6,Bxh6,gxh6,Qxh6,f6,Qg6+,Kh8,Rfe1,Qe7,Re4,Rf7', 'Rh4+,Rh7,Rxh7+,Qxh7,Qxf6+,Qg7,Qxe6', 'https://lichess.org/training/nDgg9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDGJn', 'Blitz', 'Plmlgs99', 2511, 'GM Kjetil_Lie80', 2659, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,Nb6,Bb3,O-O,O-O,Nc6,d5,Na5,Re1,Bg4,Bg5,Re8,d6,Qxd6,Bxf7+,Kxf7,Rxe7+,Qxe7,Bxe7,Rxe7', 'Ng5+,Kg8,Qxg4', 'https://lichess.org/training/nDGJn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDhHQ', 'Rapid', 'chess_shaolin', 2251, 'puzzledpuzzler', 2323, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Qe7+,Qe2,Be6,Bxe6,Qxe6,Qxe6+,fxe6,Bf4,Nd7,O-O-O,c5,d5,exd5,Rxd5,O-O-O,Ne2,Be7,Rhd1,Nb6,Rxd8+,Rxd8,Rxd8+,Kxd8,b3,Nd5,Bd2,Kd7,c4,Nc7,Kc2,Bd6,Kd3,Ne6,Ke4,g6,g3,f5+,Kd3,Be5,Bc3,Kd6,f4,Bxc3,Kxc3,g5,fxg5,Nxg5,Kd3,Ke5,Ke3,Ne4,Nf4,Nc3,Nd3+,Kd6,a3,b6,Kf4,Ke6,b4,cxb4,axb4,a5,bxa5,bxa5,Nc5+,Kf6,Nd7+,Ke7,Nb6,Ke6,c5', 'Nd5+,Kf3,Nxb6', 'https://lichess.org/training/nDhHQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDhWW', 'Blitz', 'moonie', 2178, 'LM coffeebeans', 2477, 'd4,e6,c4,Nf6,Nc3,Bb4,Qc2,O-O,a3,Bxc3+,Qxc3,b6,f3,d5,e3,Ba6,b3,Nbd7,Bd3,c5,Ne2,Rc8,cxd5,Nxd5,Qd2,Bxd3,Qxd3,Qh4+,g3,Qh3,e4,N5f6,Nf4,Qh6,Nxe6,Qg6,Nf4,Qh6,Nd5,Qh3,Ne7+,Kh8,Nxc8,Rxc8,d5,c4,Qf1,Qh5,b4,Ne5,g4,Qh4+,Ke2,Nd3,Be3,Re8,Rc1,b5,a4,a6,g5,Nh5,axb5,axb5,Rg1,Qxh2+,Rg2,Nhf4+,Bxf4,Nxf4+,Kf2,Qh4+,Kg1,Nh3+,Kh2,Nxg5+,Kg1,Nh3+,Kh1,Nf2+,Kg1,Nd3,Rcc2,f5,Rh2,Qf4,Qh3,Qe3+,Kh1', 'Qe1+,Kg2,Nf4#', 'https://lichess.org/training/nDhWW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NdjSS', 'Blitz', 'CM Blueagle', 2259, 'miki1958', 2170, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,c5,b6,b4,a5,Na4,axb4,Nxb6,Ra7,Bf4,Nc6,Bb5,Bd7,Nxd7,Qxd7,Nf3,Ra5,Ne5,Rxb5,Nxd7,Nxd7,O-O,Ra5,Re1,Be7,Qg4,O-O,Bh6,Bf6,Re3,Nxd4,Rd1,Nf5,Rh3,Rxc5,Be3,d4,Bd2,Rfc8,Qh5,Nf8,g4', 'g6,gxf5,gxh5', 'https://lichess.org/training/NdjSS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NdKXH', 'Rapid', 'TheHono1985', 1918, 'Ikre', 1860, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,Bd6,Ne5,c5,c3,Nc6,Bd3,O-O,Nd2,h6,h3,Qc7,Ndf3,cxd4,exd4,a6,O-O,b5,b4,Bb7,Re1,Nd7,a4,bxa4,Rxa4,Bxe5,dxe5,Nb6,Ra1,Rfd8,Bb1,Ne7,Qc2,Ng6,Bg3,Rac8,Ra3,Nc4,Rb3,Bc6,Nh4,Ba4,Nxg6,Bxb3,Qxb3,Nd2,Qc2,Nxb1,Qxb1,fxg6,Qxg6,Re8,Ra1,Qxc3,Rxa6,Kh8,Rxe6,Rxe6,Qxe6,d4,Qd7,d3,Bf4,Rf8,Be3,Ra8,e6,Qe5,e7', 'Ra1+,Bc1,Rxc1#', 'https://lichess.org/training/NdKXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NdlWS', 'Rapid', 'zdz234-f', 2216, 'manny_garcia', 2018, 'd4,Nf6,c4,e6,Nf3,d5,Nbd2,Nbd7,e3,b6,Bd3,Bb7,O-O,c5,Qe2,Be7,b3,h6,Bb2,O-O,Rac1,Rc8,Rfd1,Re8,h3,Rc7,Rc2,Qa8,Rdc1,Rec8,a4,dxc4,Bxc4,Nd5,dxc5,Nb4,cxb6,axb6,Ba3,Nxc2,Bxe7,Nc5,Bxc5,Rxc5,Rxc2,Bd5,e4,Bxc4,Nxc4,Qb8,Rd2,b5,axb5,Qxb5,Nd4,Qb8,Ra2,Rd8,Qe3', 'Rxc4,bxc4,Qb1+,Kh2,Qxa2', 'https://lichess.org/training/NdlWS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ndmtv', 'Classical', 'nicaneur', 1937, 'Mohmadsameh', 1964, 'd4,d5,Nc3,Bf5,Bf4,Nf6,e3,c5,Nb5,Na6,f3,Bd7,c3,Nh5,Bg5,h6', 'Nd6+,exd6,Bxd8', 'https://lichess.org/training/Ndmtv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDNFU', 'Blitz', 'DB23', 2399, 'RusletHustler', 2474, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,h6,c4,c6,Nc3,Nf6,Bd3,b6,Nf3,Bb7,Ne5,O-O,O-O,dxc4,Bxc4,Qc7,f4,Nbd7,Bd3,Rad8,Rc1,c5,Nb5,Qb8,Nxd6,Qxd6,dxc5,Nxc5,Bb1,Qe7,Qe1,Nfe4,Bh4,g5,fxg5,hxg5,Bg3,Kg7,b4,Na6,Bxe4,Bxe4,Qc3,f6,Nc6,Bxc6,Qxc6,Nxb4,Qa4,Nd5,e4,Qb4,Qxa7+,Rf7,Qa6,Ne3,Rfe1,Qxe4,Qe2,Rd3,Rb1,f5,Rxb6,Rfd7,Rb3,f4,Rxd3,Rxd3,a4,fxg3,hxg3,e5,a5,Qd4,Kh2,Ng4+,Kh3,Rxg3+,Kxg3,Qf4+,Kh3,Qh2+,Kxg4', 'Qf4+,Kh5,Qh4#', 'https://lichess.org/training/nDNFU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NdnKx', 'Classical', 'beginner1800', 1919, 'alexluzhin', 2157, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Nxe4,Bxb4,Nxb4,Qb3,d5,Qxb4,dxc4,Qxc4,O-O,O-O,Be6,Qd3,Bf5,Nc3,Ng3,Qb5,c6,Qe5,Nxf1,Qxf5,g6,Qh3,Nd2,Nxd2,Qxd4,Nf3,Qb6,Na4,Qa5,Qh6,Rfe8,Nc3,f6,h3,Rad8,Nh4,g5,Nf3,Qf5,h4,g4,Nh2,Rd7,Qc1,Rg7,Qf1,Qc5,Na4,Qc2,Qd1,Qg6,Qb3+,Kh8,Nc5,Re5,Ne6,Re7,Nf4,Qe4,Nd3,Rb5,Qc3,Qe6,Nf4,Qf5,Nd3,Re2,Rb1,Rd5,Rd1,Rxd3,Qxd3', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/NdnKx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDNMc', 'Blitz', 'Chickenchess_huhu', 1670, 'Rafael6236', 1650, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bd3,b5,a3,Bb7,O-O,h6,Re1,e5,Nf5,g6,Ng3,Bg7,a4,b4,Nd5,Nbd7,c3,bxc3,Nxc3,O-O,Bc4,Nb6,Bd5,Bxd5,Nxd5,Nbxd5,exd5,Qa5,Be3,Qxd5,Qc1,Kh7,Ra3,Ng4,h3,Nxe3,Rexe3,Rac8,Rac3,Rxc3,Qxc3,f5,Rd3,Qe6,Qc6,Rd8,Qxa6,e4,Rd2,f4,Ne2,e3,Rc2,exf2+,Kxf2,Qe3+,Ke1,Bd4,Qb7+,Kh8,Rc7,Qf2+,Kd1,Qf1+,Kd2,Be3+,Kd3,Qd1+,Kc3,Bd2+,Kc4,Qc2+,Nc3,Bxc3', 'Rh7+,Kg8,Qf7#', 'https://lichess.org/training/nDNMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NDp1N', 'Rapid', 'FrereKeiser', 1769, 'Csiga', 1761, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,d4,Nd7,Bc4,b5,Bb3,a5,a3,a4,Ba2,e6,O-O,Ngf6,Re1,Bd6,Bg5,h6,Bxf6,Nxf6,d5,cxd5,Bxd5,Nxd5,Qxd5,Bxc2', 'Qc6+,Kf8,Qxc2', 'https://lichess.org/training/NDp1N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ndPD2', 'Rapid', 'AhmadTauseef', 1704, 'BetoFer', 1679, 'e4,e5,d4,exd4,c3,d6,Qxd4,Nc6,Qd1,Nf6,f3,Be7,Bc4,O-O,Be3,Ne5,Nd2,Be6,Bxe6,fxe6,Qc2,Nh5,O-O-O,Nf4,Bxf4,Rxf4,Nh3,Rf8,Kb1,d5,f4,Ng4,e5,Ne3,Qd3,Nxd1,Rxd1,c5,Nf3,c4,Qc2,h6,g3,b5,Nd4,Qe8,Nxe6,Rf7,Rxd5', 'Qc6,Qe4,Qxe6', 'https://lichess.org/training/ndPD2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NdqCi', 'Rapid', 'Mafia715', 1535, 'iqwoo', 1532, 'd4,Nf6,Nc3,g6,e4,d6,Nf3,Bg7,Be2,O-O,O-O,c6,e5,dxe5,dxe5,Qxd1,Bxd1,Ng4,Ng5,Nxe5,Nf3,Bg4,Nxe5,Bxd1,Bf4,Bxc2,Rac1,Bf5,f3,Nd7,g4,Be6,Nd3,Bd4+,Kh1,Rad8,Ne2,Bb6,Ne5,Bd5,Rcd1,Bxf3+,Rxf3,Nxe5,Rxd8,Nxf3,Rd7,e5,Bh6,Rb8,Ng3,Rd8,Rxb7,Rd1+,Kg2,Nh4+,Kh3,Bd8,Rxa7,f5', 'Rg7+,Kf8,Rd7+,Ke8,Rxd1', 'https://lichess.org/training/NdqCi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDQup', 'Classical', 'KEG77', 1716, 'fran9500', 1697, 'e4,c6,d4,d5,e5,e6,Nf3,Nd7,c4,h6,Nc3,g6,Bd3,Ne7,b3,Bg7,c5,O-O,Bf4,g5,Bxg5,hxg5,Nxg5,Nf5,Qh5,Bh6,Bxf5', 'Qxg5,Qxg5+,Bxg5', 'https://lichess.org/training/nDQup');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDSMo', 'Rapid', 'HopOleg', 1826, 'AnatolyKAS', 1756, 'd4,Nf6,c4,e6,a3,h6,Nc3,a6,e4,d6,Nf3,Be7,h3,c5,d5,e5,Be3,Qa5,Bd3,Bd7,O-O,b5,cxb5,axb5,Qc2,c4,Be2,O-O,b4,Qa6,Qd2,Qb7,Bxh6,gxh6,Qxh6,Nh7,h4,Kh8,Nh2,Qc8,f4,Rg8,fxe5,Bh3,Rf2,dxe5,Rxf7,Rxg2+,Kh1,Qg8,Rxe7,Rg6,Qh5', 'Bg2+,Kg1,Bf3+,Qxg6,Qxg6+', 'https://lichess.org/training/nDSMo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NDTJv', 'Rapid', 'Silvioduarte', 1794, 'Soumen13', 1808, 'e4,e5,d3,Bc5,Be3,Bxe3,fxe3,d6,Nf3,Nf6,Be2,Nc6,O-O,Bg4,Nc3,Qd7,Nh4,h5,Bxg4,hxg4,Nf5,O-O-O,Nxg7,Rh7,Nf5,Rdh8,Kf2,Rxh2,Rg1,Qd8,Ke2,d5,Qd2,d4,Nd1,dxe3,Ndxe3,R8h3,Raf1,Nd4+,Nxd4,exd4,Nf5,Nh5,Kd1,Ng3,Qf4,Nxf1,gxh3,g3,Qxf1,Qg5,Qe1,g2,Nxd4,Rxh3,Ne2,Rh2,Qf2,Rh1,Qxg2', 'Qxg2,Rxh1,Qxh1+', 'https://lichess.org/training/NDTJv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NDTX2', 'Blitz', 'swaPP', 1590, 'arturdead', 1674, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Bd6,Bg5,Nbd7,c3,O-O,O-O,h6,Bh4,Re8,Nbd2,c5,dxc5,Bxc5,b4,Be7,Bb5,Qb6,a4,a6,Bd3,Qd6,Bg3,Qb6,Nd4,Bd6,a5,Qc7,Bxd6,Qxd6,Nf5,Qf4,g3,Qg5,Nd6,Ne5,Nxe8,Nxd3,Nf3,Qg6,Nxf6+,gxf6,Qe2,Bg4,Rad1,Nf4,Qe3,Nh3+,Kg2,Qh5,Rd4,Kf8,Re1,Kg7,Ng1,Ng5,h3,Bf3+,Nxf3,Re8,Qd3', 'Qxh3+,Kg1,Nxf3+,Qxf3,Rxe1#', 'https://lichess.org/training/NDTX2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NDuEQ', 'Rapid', 'marcu', 1618, 'DooderMoodere', 1636, 'd4,d5,c4,e6,e3,Nf6,Nc3,c6,Nf3,Nbd7,Bd3,g6,O-O,Bg7,Re1,O-O,Ng5,Re8,e4,dxe4,Ncxe4,Qc7,c5,h6,Nd6,hxg5,Nxe8,Nxe8,Bxg5,b6,Qg4,Nef6,Qh4,bxc5,dxc5,Nxc5,Bc4,Ncd7,Bh6,Rb8,b3,Nb6,Bxg7,Kxg7,Re3,Nxc4,bxc4,Ba6,Rh3,Qe5', 'Qh6+,Kg8,Qh8#', 'https://lichess.org/training/NDuEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nduRg', 'Classical', 'Said64', 1702, 'ahmad_zeyad', 1675, 'e4,c5,d4,cxd4,Qxd4,Nf6,Bd2,Nc6,Qe3,d5,Bb5,dxe4,Nc3,e6,O-O-O,Qb6,Qg5,Nd5,Bxc6+,Qxc6,Nxe4,Qa4,Nc3,Nxc3,Bxc3,Qxa2,Nf3,Bd6,Qxg7', 'Bf4+,Rd2,Qa1#', 'https://lichess.org/training/nduRg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NDVmk', 'Rapid', 'Axelsamui', 1646, 'toyama', 1638, 'd4,d5,Bf4,Nc6,e3,Nf6,c4,dxc4,Bxc4,e6,a3,Bd6,Ne2,O-O,O-O,Nh5,Bxd6,cxd6,Nbc3,d5,Bd3,f5,b4,Nf6,Nf4,Ne4,Nxe4,fxe4,Be2,Qf6,f3,e5,Nxd5,Qg5,fxe4,Rxf1+,Qxf1,exd4,exd4,Nxd4,Bc4,Be6,Qd3,Nc6,Nc7,Rd8,Bxe6+,Kh8,Nd5,Qe5,Rf1,Qxe6,Rf5,Ne5,Qf1,Ng6,Qe1,Nh4,Qxh4,Re8,Nc7,Qb6+,Kf1,Qxc7,Qf2,Qc1+,Qe1,Qc4+,Kg1,Kg8,Qe3,Rxe4,Qd2,Rd4,Rc5', 'Qxc5,bxc5,Rxd2', 'https://lichess.org/training/NDVmk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NdVPl', 'Classical', 'DariusWin', 1605, 'Eng255', 1662, 'e4,e5,Nf3,Nc6,c3,h6,d4,exd4,cxd4,d5,e5,f6,Bb5,Bd7,Bd3,fxe5,Bg6+,Ke7,Qe2,Be8,Bd3,e4,Bb5,a6,Bxc6,Bxc6,O-O,Qe8,Ne5,Bb5,Qc2,c6,Re1,Kd8,Nc3,Bd6,f4,Bxe5,dxe5,Bd3,Qf2,Kd7,Bd2,Ne7,Qg3,Nf5,Qh3,g6,Be3,Kc7,Bf2,Qf7,Na4,Rag8,Nc5,g5,Nxd3', 'g4,Qe3,Nxe3', 'https://lichess.org/training/NdVPl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NDVs7', 'Rapid', 'pobler', 1674, 'andras960', 1645, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,e5,Be7,f4,O-O,Nf3,c5,Be2,f6,O-O,cxd4,Nxd4,b6,Bd3,fxe5,fxe5,Bc5,Ne2,Bd7,c3,Nc6,Bc2,Nxe5,Kh1,Nf7,Qd3,Ng5,b4,Bd6,Ng3,Bxg3,Qxg3,Ne4,Bxe4,dxe4,Qe5,Qe7,Qxe4,Rac8,Rac1,Rxf1+,Rxf1,Rxc3,Qa8+,Bc8,Re1,Qc7,Nxe6,Qf7,Nd4,Qc7,Qe4,h6,b5,Rc1,Nc6,Rxe1+,Qxe1,Bf5', 'Ne7+,Kh8,Nxf5', 'https://lichess.org/training/NDVs7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ndWpC', 'Classical', 'The_Yldrm', 1705, 'MarioLga', 1726, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,d3,h6,Be3,Bb6,h3,d6,O-O,Nh7,Nd5,O-O,Nh2,Bxe3,fxe3,Be6,d4,Bxd5,Bxd5,exd4,exd4,Nf6,Bb3,Nxe4,Qf3,Nf6,c3,Qd7,Rae1,Rae8,Qd3,Rxe1,Rxe1,d5,Bc2,Ne4,Rxe4,dxe4,Qxe4,g6,Ng4,Kg7,d5,Ne7,Qd4+,f6,Qe3,g5,Qd3,f5,Qd4+,Kh7,Nf6+,Rxf6,Qxf6,a6,g4,Qd6,Qf7+,Kh8,Bxf5,Qc5+,Kf1,Qc4+,Ke1,Nxf5,gxf5,Qe4+,Kd2,Qg2+,Kd3,Qxh3+,Kc4,Qf1+,Kb4,Qb5+,Ka3,Qa5+,Kb3,Qb5+,Kc2,Qe2+,Kb3,Qb5+,Kc2,Qe2+,Kc1,Qe1+,Kc2,Qe2+,Kb1', 'Qd1#', 'https://lichess.org/training/ndWpC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDwTi', 'Rapid', 'Arturem', 1807, 'shahta27', 1776, 'e4,e5,Bc4,Nc6,c3,Nf6,Qe2,d6,Bb3,Be7,d3,O-O,f4,Re8,f5,h6,g4,Nh7,Be3,Kf8,Nf3,Bg5,h4,Bxe3,Qxe3,f6,g5,fxg5,hxg5,Nxg5,Nxg5,Qxg5,Qxg5,hxg5,Rh8+,Ke7,Rh7,Kf6,Nd2,Bd7,Rh3,Rh8,Rf3,g4,Rg3,Rh1+,Nf1,g6,Rxg4,gxf5,exf5,Bxf5,Rg3,Ne7,O-O-O,d5,Rf3,Ke6,c4,Bg4,cxd5+,Nxd5', 'Bxd5+,Kxd5,Ne3+,Kd4,Nxg4,Rxd1+,Kxd1', 'https://lichess.org/training/nDwTi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NdyrS', 'Rapid', 'Casalopez', 1709, 'piochu', 1835, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,e5,Be2,e4,Ng5,h6,Nxf7,Kxf7,Bh5+,g6,Be2,Bg7,Qb3,Nd4,Qa4,Nxe2,Kxe2,Bg4+,Kf1,Qd3+,Kg1,Qe2,h3,Be6,Nc3,Qe1+,Kh2,Qxf2,Qb3,b6,Nb5,Nh5,d4,Nf4,Bxf4,Qxf4+,Kg1,Rad8', 'Rf1,Bxd4+,Nxd4,Qxf1+,Kxf1', 'https://lichess.org/training/NdyrS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ndZnj', 'Blitz', 'NamanChhabaria', 1501, 'Mahmoudgawe', 1523, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,f3,Bg7,Nc3,Nf6,Bg5,O-O,Bd3,h6,Bh4,d5,exd5,cxd5,Bg3,Re8,O-O,Qb6+,Bf2,Qxb2,Na4,Qa3,c4,Bd7,Bc2,dxc4', 'Bc5,Bxa4,Bxa3,Bxc2,Qxc2', 'https://lichess.org/training/ndZnj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nDZQ9', 'Rapid', 'swapnilkumar1999', 1667, 'qwer68', 1624, 'd4,d5,e3,Bf5,h3,Nf6,Nf3,Nc6,a3,e6,c4,dxc4,Bxc4,Bd6,Nc3,Ne4,O-O,a6,Bd3,Nxc3,bxc3,Bxd3,Qxd3,Qf6,e4,Bf4,Bb2,e5,Rfe1,O-O-O,Qc4,exd4,cxd4,b5,e5,Nxe5', 'dxe5,bxc4,exf6', 'https://lichess.org/training/nDZQ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NdZsh', 'Blitz', 'Pikkuherkko', 2111, 'Teimoso', 2148, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,h3,O-O,Be2,Bf5,O-O,Nd7,c3,Qc7,Bd3,Bxd3,Qxd3,Rfe8,Be3,g6,b4,a5,a3,b5,d5,axb4,axb4,Rxa1,Rxa1,Nb6,dxc6,Qxc6,Ra6,Bc7,Nd4,Qd6,g3,Re5,Qe2,Qd5,Ra5,Na4,Rxb5', 'Nxc3,Rxd5,Nxe2+,Nxe2,Rxd5', 'https://lichess.org/training/NdZsh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NE0DW', 'Blitz', 'yigitcan01', 1520, 'pfornes', 1533, 'd4,d5,Nc3,Nf6,e4,Bg4,f3,Bh5,Nxd5,Nxd5,exd5,Qxd5,a4,e6,Bb5+,c6,Bd3,Nd7,Be3,Bb4+,c3,Be7,Ne2,Bh4+,Ng3,Bxg3+,hxg3,Bg6,g4,O-O,O-O,f5,Ra3,fxg4,fxg4,Rxf1+,Kxf1,Rf8+,Ke1,Bxd3,Qxd3,Qxg2,Kd1,Rf1+,Qxf1,Qxf1+,Kc2,Qd3+,Kxd3,Nf6,Rb3,b6,Ra3,Nxg4,Bf4,Nf6,a5,Nd5,Bd6,b5,a6,g5,Ra1,h5,Rh1,h4,Rg1,Kh7,Rxg5,Kh6,Rg8,Nf6,Ra8,h3,Rxa7,Kg5,Rb7,Ng4,a7,e5,Bxe5,Nxe5+,Ke4,h2,a8=Q', 'h1=Q+,Kxe5,Qd5#', 'https://lichess.org/training/NE0DW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ne0Tr', 'Blitz', 'bokken', 1951, 'mustafaengur', 1911, 'e4,Nf6,Nf3,Nc6,e5,Nd5,Bc4,Nb6,Bxf7+,Kxf7,c3,d5,Ng5+,Kg8,Qf3,Qe8,e6,h6', 'Qf7+,Qxf7,exf7#', 'https://lichess.org/training/ne0Tr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nE1XF', 'Classical', 'ProgrammerZihad', 1917, 'memmo67lichess', 2002, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,h6,d4,exd4,exd4,Be7,d5,Nb4,a3,Na6,Be3,Nc5,b4,Nce4,Nxe4,Nxe4,Bd3,Nf6,O-O,d6,h3,O-O,Rc1,Re8,Bb1,Bf8,Qd3,Ne4,Rfe1,Bf5,Nd4,Bg6,Qd1,Qh4,Nf3,Qh5,Kh2,Re7', 'g4,Qe5+,Nxe5', 'https://lichess.org/training/nE1XF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ne2jN', 'Blitz', 'Marlen83', 1576, 'MySonKing', 1546, 'e4,e5,Bc4,Bc5,Nf3,Nc6,Nc3,Nf6,d3,h6,Be3,Bb6,Qd2,d6,Nd5,Nxd5,Bxd5,Nd4,O-O-O,Nxf3,gxf3,c6,Bb3,Qe7,f4,Be6,fxe5,Bxb3,exd6,Qxd6,axb3,O-O-O,f4,Bc7,f5,Qe5,Bxa7,Qa5,Qxa5,Bxa5,Bd4,f6,Be3,Kc7,Rhg1,Rd7,c4,Ra8,Kc2,Kc8,h4,Bc7,Rg2,Be5,Rdg1,Ra2,Bc1,Bd4,Rf1,Ra1,Rf4', 'Rxc1+,Kxc1,Be3+,Kc2,Bxf4', 'https://lichess.org/training/Ne2jN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nE4eN', 'Blitz', 'baloss1', 2025, 'Gem_bel', 2027, 'd4,Nf6,Nc3,g6,e4,d5,e5,Nfd7,Nce2,e6,Ng3,Bg7,c3,O-O,Nf3,c5,Bd3,Nc6,O-O,b6,Qe2,Bb7,h3,Rc8,Bg5,Qc7,Rac1,c4,Bb1,b5,a3,a5,Qd2,Qb6,Bh6,b4,Bxg7,Kxg7,Qg5,Rg8,axb4,axb4,Nh5+,Kf8,Nf6,Nxf6,Qxf6,bxc3,bxc3,Qd8,Qxd8+,Rxd8,Bc2,Kg7,Rb1,Rb8,Rb6,Ba8,Rfb1,Rxb6,Rxb6,Rb8,Rxb8,Nxb8,Ba4,Bc6,Bxc6,Nxc6,Kf1,f6,exf6+,Kxf6,Ke2,e5,dxe5+,Nxe5,Nxe5,Kxe5,Ke3,g5,g3,Kf5,f4,gxf4+,gxf4,h6,Kd4,Ke6', 'f5+,Kxf5,Kxd5,Kf4,Kxc4', 'https://lichess.org/training/nE4eN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NE5NP', 'Classical', 'SadBarnacle', 1668, 'albanianGENIUS', 1678, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,f3,Bf5,d3,c6,g4,Bg6,f4,Qc7,f5,c5,fxg6,hxg6,Be3,Qc6,Nf3,f5,gxf5,gxf5,Qd2,Nd7,O-O-O,e6,d4,c4,d5,Qc7,dxe6,Ndf6,Nb5,Qd8,Qc3,Qe7,Bxc4,a6,Nd6+,Qxd6,Rxd6,Bxd6,Qb3,b5,Bd5,Rc8,h4,Ng4,Bd4,N8f6,Bxf6,Nxf6,Rd1,Bf4+,Kb1,Ke7,Bb7,Rc7,Bxa6,g5,hxg5,Ne4,Nd4,Nd2+,Rxd2', 'Rh1+,Rd1,Rxd1#', 'https://lichess.org/training/NE5NP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ne5wZ', 'Blitz', 'khaledOYE', 1802, 'VladimirKGl', 1904, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,Bg4,Be3,e6,Bd3,Nf6,h3,Bh5,g4,Bg6,Bxg6,hxg6,Qd2,Nxg4,O-O-O,Nxe3,Qxe3,Qa5,Kb1,Bb4,Ne1,Bxc3,bxc3,O-O,h4,b5,h5,b4,Rd3,Rab8,hxg6,bxc3+,Ka1,Nb4', 'Rh8+,Kxh8,Qh3+,Kg8,Qh7#', 'https://lichess.org/training/ne5wZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NE697', 'Rapid', 'faroukhourie', 1693, 'aliaboomar15', 1721, 'd4,d5,Bf4,Bf5,e3,Nc6,a3,Nf6,h3,h5,Nf3,Qd7,c4,O-O-O,Nc3,Kb8,Nb5,Rc8,Ne5,Nxe5,Bxe5,Ne4,Qa4,a6,Bxc7+,Rxc7,Qb4,axb5,cxb5,e5,Qa5,exd4,b6,Bd6', 'Qa7+,Kc8,Qa8#', 'https://lichess.org/training/NE697');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NE7cn', 'Rapid', 'cristian3529', 1627, 'fredericoufsj', 1613, 'e4,e5,Bc4,d6,Qf3,Nf6,h3,Nc6,c3,Qe7,Ne2,Be6,Bb5,a6,Ba4,g6,Ng3,d5,d3,dxe4,dxe4,Bg7,O-O,O-O,Be3,Rad8,Bxc6,bxc6,Nd2,Rd3,Qe2,Rfd8,Rfd1,c5,Rdc1,c4,a4,a5,Kf1,Nd7,Nf3,Bf6,Qc2,Bg5,Bxg5,f6,Be3,Nc5,Bxc5,Qxc5,Ne1', 'Rd2,Nh1,Rxc2', 'https://lichess.org/training/NE7cn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ne8Oa', 'Classical', 'Maquiaveus', 1699, 'RAY_DO', 1685, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Qd2,O-O,O-O-O,Nc6,Kb1,Bd7,f4,Ng4,Bg1,Qa5,Nb3,Qc7,h3,Nf6,e5,dxe5,fxe5,Nxe5,Bh2,Be6,Re1,Bxb3,axb3,Nfd7,Nd5,Qd6,Bxe5,Nxe5,Bc4,Nxc4,bxc4,e6', 'Nf6+,Bxf6,Qxd6', 'https://lichess.org/training/Ne8Oa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NeaK6', 'Classical', 'Gambitmat86', 1955, 'critical__square', 2024, 'Nf3,Nf6,g3,e6,c4,d5,Bg2,Be7,O-O,O-O,cxd5,exd5,d4,c6,Nc3,Nbd7,Bg5,Re8,Rc1,Nf8,Ne5,Ne6,Bxf6,Bxf6,e3,Nf8,Nd3,b6,Ne2,Bg4,Rxc6,Bxe2,Qxe2,Bxd4,Qd2,Qg5,Nf4,Be5,Qxd5,Rad8,Qb5', 'Bxf4,Qxg5,Bxg5', 'https://lichess.org/training/NeaK6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('neAQ2', 'Classical', 'EgorShvets-Shust', 1659, 'polyantsevilya', 1618, 'Nf3,d5,d4,Nf6,e3,Bg4,c4,c6,Nc3,e6,Be2,Nbd7,Qb3,Qc7,Bd2,Ne4,cxd5,cxd5,Nxe4,dxe4,Rc1,Qb6,Ng1,Bxe2,Nxe2,Qxb3,axb3,Bd6,Nc3,Nf6,Nb5,Bb8', 'Rc8+,Kd7,Rxh8', 'https://lichess.org/training/neAQ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NEBML', 'Rapid', 'wanderean', 1830, 'nerses_ghukasyan', 1938, 'd4,d6,c4,g6,e4,Bg7,Be3,Nf6,Nc3,O-O,Bd3,Nc6,a3,e5,d5,Nb8,Nge2,Na6,b4,c5,b5,Nc7,Rb1,b6,O-O,a5,Na4,Rb8,Ng3,Ng4,Qf3,Qh4,h3,Nxe3,fxe3,Bh6,Kh2,Ne8,Rh1,Nf6,Kg1,Nd7,Nf1,Qf6,Qe2,Qg5,h4,Qe7,g4,Bg7,h5,gxh5,Rxh5,Nf6,Rh4,Nxg4,Rxg4,Bxg4,Qxg4,Kh8,Kf2,Rg8,Qh3,Qf6+,Ke2,Bh6,Ng3,Qg5,Nf5,Rg6,Rh1,Rbg8,Nxh6,Rxh6,Qxh6,Qg2+,Ke1,Qg3+,Kd2,Qf2+,Be2,Rg7,Rh2,Qg1,Rh1,Qg2,Nxb6,Qxe4,Rh4,Qb1,a4,Qb2+,Ke1,Qb1+,Bd1,Rg1+,Kf2,Rg7,Rh1,Qf5+,Ke2', 'Rg2+,Ke1,Qf2#', 'https://lichess.org/training/NEBML');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('neC4P', 'Rapid', 'ashams', 1697, 'patzerforever', 1679, 'e4,e5,d3,Nc6,Nf3,Be7,Nc3,Nf6,h3,O-O,a3,Bc5,Be3,Bb6,d4,exd4,Nxd4,Re8,Nxc6,dxc6,Bxb6,axb6,Bd3,Bf5,f3,Nd5,O-O,Nxc3,bxc3,Be6,Qe2,b5,Rad1,Qf6,e5,Qg5,f4,Qh4,f5,Bd5,Qe3,Rxa3,Rf4,Qe7,Re1,Rxc3,Qd4,Qc5,Qxc5,Rxc5,Rg4,Bc4,e6,fxe6,fxe6,Rxe6', 'Bxc4,Rxc4,Rxe6', 'https://lichess.org/training/neC4P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NeD3J', 'Rapid', 'zeini_nahaii67', 1999, 'pezaa', 1775, 'e4,e6,Nf3,c6,d4,d5,e5,Bb4+,c3,Ba5,b4,Bb6,a4,Bd7,a5,Bc7,Bg5,Ne7,h3,O-O,Nbd2,Qe8,Bd3,Bd8,O-O,Ng6,Qe2,f6,exf6,Bxf6,Bxf6,Rxf6,Ne5,Nf4,Qe3,Nxd3,Qxd3,Qh5,Ndf3,Be8,Ng4,Bg6,Nxf6+,gxf6,Qe3,Kf7,Nh2,Nd7,Rae1,Re8,Qg3,Nf8,f4,Be4,Qg4,Qxg4,Nxg4,f5,Ne5+,Ke7,Re3,Ng6,Rg3,Rg8,Nxg6+,hxg6,Re1,Kf6,Ree3,Rh8,Kf2,Rh4,Rg5', 'Rxf4+,Ke2,Kxg5', 'https://lichess.org/training/NeD3J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NeDhB', 'Blitz', 'WCM cibae', 2058, 'Masoud20000', 2015, 'd4,e6,c4,d5,Nc3,c6,Nf3,Bb4,e3,Nf6,a3,Bxc3+,bxc3,O-O,a4,b6,Ba3,Re8,c5,Ne4,Qb3,bxc5,Bxc5,Ba6,Bxa6,Nxa6,Ba3,Qa5,Bb4,Qb6,a5,Qb5,Nd2,Nxd2,Kxd2,Rab8,Rhb1,c5,dxc5,Nxc5,Qc2,Ne4+,Ke1,Qc4,f3,Nc5,Qe2,Qh4+,Kd2,Rbc8,g3,Qh3,Bxc5,Rxc5,Rb7,Rec8,Ra3,e5,Rab3,d4,exd4,exd4,Rb8,dxc3+,Kc2,Qf5+,Kc1,c2', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/NeDhB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NeDyO', 'Rapid', 'bhati254', 1879, 'juanfranfunes', 1896, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Ng4,Nf3,Bc5,O-O,O-O,h3,Nxf2,Rxf2,Bxf2+,Kxf2,f5,Nxe5', 'Qd4+,Kf1,Qxe5', 'https://lichess.org/training/NeDyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NEenn', 'Blitz', 'Batchounet', 1611, 'BCS2512', 1661, 'e4,c5,Nf3,e6,Bc4,Be7,Nc3,Nc6,O-O,Nf6,d3,O-O,b3,h6,Bb2,d6,a4,a6,Re1,d5,exd5,exd5,Nxd5,Nxd5,Bxd5,Qxd5,c4,Qd8,d4,Bf6,Ne5,Nxe5,dxe5,Bg5,Qf3,Rb8,Rad1,Qc7,Qg3,Be6,f4,Be7,Rf1,Bf5', 'e6,f6,Rd7,Qxd7,exd7', 'https://lichess.org/training/NEenn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NEeW3', 'Rapid', 'Geronimo74', 1981, 'gergobacsi', 1710, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nf6,Bc4,O-O,Nxc6,bxc6,O-O,Re8,d3,h6,Be3,Bxe3,fxe3,d5,exd5,cxd5,Bb5,Rxe3,Qd2,d4,Ne4,Nxe4,dxe4,Rxe4', 'Bc6,Re6,Bxa8', 'https://lichess.org/training/NEeW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NefQF', 'Blitz', 'IdlingBalo', 1525, 'Xamitier', 1529, 'e4,d5,exd5,Qxd5,d4,Nf6,Nc3,Qc6,Be3,Ne4,Nxe4,Qxe4,Nf3,Nc6,Qd2,Bf5,O-O-O,O-O-O,Ng5,Qd5,c4,Nb4,cxd5', 'Nxa2#', 'https://lichess.org/training/NefQF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NEKFb', 'Rapid', 'EwgenyOsin', 1954, 'Alister1', 1859, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e4,d6,h3,Nbd7,Bg5,e5,d5,Nc5,Qc2,h6,Be3,Na6,a3,c6,dxc6,bxc6,Rd1,Nc7,c5,d5,Nxe5,Nxe4,Nxc6,Qf6,Nxe4,dxe4,Nd4,Nd5,Qb3,Nxe3,Qxe3,Rd8,Qxe4,Bf5,Nxf5,Re8,Qxe8+,Rxe8+,Ne3,Qxb2,Be2,Bc3+,Kf1,Qxa3,c6,Qc5,Bf3,Bd4,Nd5,Bxf2,Nf6+,Kf8', 'Nd7+,Kg7,Nxc5', 'https://lichess.org/training/NEKFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nekFg', 'Blitz', 'OzgurAkman', 2306, 'orhancelebi373', 2258, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,d3,Bd6,O-O,c5,Nbd2,Bg4,b3,Qe7,Bb2,O-O-O,Qe1,h5,h3,Rdg8,Nh2,Qd7,hxg4,hxg4,f3,g3,Qxg3,g5,Ng4,Nh5,Qf2,f6,g3,Qh7,Kg2', 'Nf4+,gxf4,Qh3+,Kg1,Qh1#', 'https://lichess.org/training/nekFg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nekmr', 'Rapid', 'varo314', 2030, 'Marko1777', 2007, 'e4,g6,d4,Bg7,Nf3,d6,Be2,Nf6,Nc3,O-O,O-O,Nc6,d5,Nb8,Nd4,c6,dxc6,bxc6,Bg5,c5,Nf3,Nbd7,Qd2,Bb7,Bd3,Rc8,Bh6,c4,Bxg7,Kxg7,Be2,Nxe4,Nxe4,Bxe4,Qd4+,Nf6,Qxa7,Bxc2,Rac1,Bd3,Rfe1,Bxe2,Rxe2,Ra8,Qxe7,Qxe7,Rxe7,Rxa2,Rb7,Rfa8,h3,Ra1,Rxa1,Rxa1+,Kh2,Ra2,Ng5,Kg8,Nxf7,Rxb2', 'Nh6+,Kf8,Rxb2', 'https://lichess.org/training/Nekmr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NelEv', 'Rapid', 'frickrot', 1777, 'boniclay', 1705, 'd4,Nf6,e3,d5,c3,Bf5,Bd3,Bg6,Nf3,Nbd7,O-O,e6,Qc2,Bd6,Nbd2,c6,e4,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Nf6,Qe2,O-O,Bg5,Be7,Ne5,h6,Bxf6,Bxf6,f4,Qc7,Rf3,Rad8,Rg3,Bxe5,fxe5,f5,Qh5,Qf7,Qxh6,f4,Rf1', 'fxg3,Rxf7,gxh6', 'https://lichess.org/training/NelEv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nEmro', 'Blitz', 'FM Maestrolll', 2056, 'RobickVohnVilla', 2098, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Be7,Bg5,O-O,e3,c5,dxc5,Bxc5,Bd3,dxc4,Bxc4,Nc6,Qxd8,Rxd8,Bxf6,gxf6,O-O,f5,e4,fxe4,Nxe4,Be7,a3,a6,Rfd1,b5,Rxd8+,Nxd8,Ba2,Bb7,Re1,Nc6,Rd1,Rd8,Rxd8+,Nxd8,Bb1,f5,Neg5,h6,Nh3,Bxf3,gxf3,Bf6,b3,Nc6,Kg2,Na5,Bc2,Kf7,Nf4,Nb7,Nd3,a5,a4,b4,f4,Ke7,Kh3,Kd6,Kg2,Nd8,Kf3,Nc6,Ke3,Bd4+,Ke2,Bc3,Ke3,Bf6,Bd1,Nd4,Nb2,Nxb3', 'Nc4+,Kc5,Bxb3', 'https://lichess.org/training/nEmro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NEMss', 'Rapid', 'TSU80', 2079, 'NAXCIVANNI44', 2099, 'c4,Nf6,g3,e6,Bg2,Be7,d4,d5,Nc3,c6,Bg5,O-O,e3,dxc4,a4,Nd5,Bxe7,Qxe7,Nge2,Nd7,O-O,Rb8,e4,Nxc3,bxc3,e5,d5,Nc5,f4,Nd3,Rb1,Qc5+,Kh1,Nf2+,Rxf2,Qxf2,dxc6,b6,h3,exf4,Nxf4,Qxg3,Qd6,Be6,c7,Rbc8,Rf1,g5,Rf3,Qe1+,Rf1,Qxc3,Nxe6,fxe6,Rxf8+,Rxf8,Qxf8+,Kxf8,c8=Q+,Kf7,Qc7+,Kg6,Qe7,Qf6,Qxa7,c3,Qxb6', 'c2,Qc6,Qa1+', 'https://lichess.org/training/NEMss');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nenHz', 'Classical', 'berries', 2198, 'vsambor', 2016, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nh3,Nf6,Nf4,e6,h4,Bd6,h5,Bf5,c3,O-O,Nxf5,exf5,Be2,Re8,O-O,Nbd7,Qd3,Ne4,Qh3,Qf6,Bc4,Ng5,Qd3,Rad8,Qg3,Nf8,Be3,Re4,Bd3,Nfe6,Bxe4,fxe4,Nxe6,Bxg3,Bxg5,Qxe6,Bxd8,Bf4,Bh4,Qd5,Rae1,h6,Bg3,Bg5,f3,Bd2,Rxe4,Qxa2,Re2,Bxc3', 'Re8+,Kh7,bxc3', 'https://lichess.org/training/nenHz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NEnrQ', 'Blitz', 'KHG83', 2028, 'PANJINganjuk7', 2000, 'd4,f5,c4,Nf6,Nf3,b6,g3,Bb7,Bg2,e6,O-O,h5,Nc3,Ng4,h3,Nc6,Bg5,Be7,Bxe7,Qxe7,hxg4,hxg4,Nh4,Rxh4,gxh4,Qxh4,Qd3,O-O-O,Qg3,Qh6,d5,Nb4,e4,Rh8,f4,Nc2,exf5,Nxa1,Rxa1,exf5,Kf2,Qd6,Rh1,Re8,Re1,Qc5+,Re3,Rf8,d6,Bxg2,Kxg2,Qxd6,Nd5,Qc5,b3,Qa3,Re2,Rh8,Qe3,Kb7,Qe7,Qc1,Qxd7,Qh1+,Kf2,Rh2+,Ke3,Qf3+,Kd4,Rxe2,Qxc7+,Ka6,Qc8+,Ka5', 'b4+,Ka4,Qa6#', 'https://lichess.org/training/NEnrQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nepbw', 'Rapid', 'allasobar', 1905, 'bdemacio', 1910, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,Ng5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,f4,exf4,Bxf4,d6,h3,Ne5,g4,h6,Nc3,g5,Bg3,c6,d4,Ng6,Rf1,Kg8,Qf3,Bd7', 'e5,dxe5,dxe5', 'https://lichess.org/training/nepbw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NEPMT', 'Blitz', 'letmetakeback', 1710, 'HATIM-DISAAA', 1704, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Qe2,Nf6,Nf3,e5,Qb5+,Nc6,d3,a6,Qa4,Bd6,Bg5,Bd7,Nd5,Be7,Bxf6,Bxf6,Nxf6+,Qxf6,Qe4,O-O,Be2,Rfe8,O-O,Nd4,Nxd4,exd4,Qf3,Qg6,Qh5,Qb6,b3,Bc6,Bg4,Qb4,Qh3,Qd2,Bf5,g6,Bd7,Bxd7,Qxd7,Qxc2,Qxd4,Rad8,Qa7,Qxd3,Qxb7,Qc3,Rac1,Qd3,Rxc7', 'Qxf1+,Kxf1,Rd1#', 'https://lichess.org/training/NEPMT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nEPSD', 'Classical', 'ChessBerd', 1960, 'Psycomath', 2223, 'd4,Nf6,c4,e5,d5,Bc5,e3,d6,Nc3,Bf5,h3,Ne4,Nf3,Nxc3,bxc3,Nd7,Be2,O-O,O-O,Be4,Nd2,Bg6,Nf3,Nf6,Qb3,Bb6,Ba3,Ne4,Rad1,Qe7,Nh2,Qg5,Nf3,Qe7,Bd3,f5,c5,Bxc5,Bxe4,fxe4,Nd2,Bxa3,Qxa3,Qg5,Qb4,Bh5,Nxe4,Qg6,Rde1,Bf3,Ng3,Bxd5,e4,Bc6,c4,b6,Qb3,Qe6,Nf5,b5,Qg3,Rf7,c5,Bxe4,Nxd6,cxd6,Rxe4,dxc5,Rxe5,Qxa2,Rxc5,b4,Rb5,a5,Qe5,Raf8,f3,Qc2,Qd5,Qg6,Rxa5,Kh8,Qb3', 'Qb6+,Kh1,Qxa5', 'https://lichess.org/training/nEPSD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nEpZG', 'Rapid', 'Bunyamin4647', 1658, 'Keres2017', 1698, 'h4,c5,h5,h6,d3,d6,e4,Nc6,Be2,Nf6,Nf3,e5,Nc3,Be7,Bd2,Be6,Nh4,Nd4,Be3,Nd7,Nf3,Qa5,Qd2,Rc8,Qd1,b5,Bd2,b4,Nd5,Bxd5,exd5,Nf6,Nxd4,exd4,O-O,O-O,Bg4,Rc7,b3,Qb6,Re1,Nxd5,Bf5,Nc3,Qg4,d5,Bf4,Rb7,Be5,Bf6,g3,Bxe5,Rxe5,Qf6,Rae1,Qg5', 'Bh7+,Kxh7,Rxg5', 'https://lichess.org/training/nEpZG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('neQcU', 'Classical', 'maxijunior', 1713, 'Sammy999', 1664, 'e4,c6,Nf3,d5,e5,e6,d4,Nd7,Bg5,f6,exf6,Ngxf6,Bh4,h6,Bd3,Bd6,O-O,O-O,c3,e5,dxe5,Nxe5,Nxe5,Bxe5,Re1,Qd6,Bg3,Bxg3,fxg3,Ng4,Rf1,Qc5+,Kh1,Nf2+,Rxf2,Rxf2,Qh5,Rxb2', 'Qe8+,Qf8,Bh7+,Kxh7,Qxf8', 'https://lichess.org/training/neQcU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nEsBn', 'Blitz', 'mujiono', 1983, 'Dedok-Andrusha', 1980, 'e4,c6,Nf3,d5,e5,Bf5,c3,e6,d4,Nd7,Nbd2,c5,h3,h6,Bb5,a6,Ba4,b5,Bc2,Bxc2,Qxc2,cxd4,cxd4,Rc8,Qd1,Bb4,O-O,Ne7,a3,Ba5,b4,Bb6,Nb3,Nf5,Nc5,O-O,g4,Ne7,Nxa6,Rc3,Nc5,Bxc5,bxc5,Nc6,Bd2,Rd3,Qe2,Rxf3,Qxf3,Nxd4,Qd3', 'Nxe5,Qxd4,Nf3+,Kg2,Nxd4', 'https://lichess.org/training/nEsBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nESlv', 'Rapid', 'rick747', 1753, 'Skarparov64', 1801, 'f4,Nf6,Nf3,g6,e3,Bg7,Bc4,d5,Bb3,O-O,O-O,c5,c3,Nc6,Ne5,Nxe5,fxe5,Ng4,d4,cxd4,exd4,Bf5,h3,Nh6,Nd2,e6,Qf3,f6,g4,fxe5,gxf5,exd4,Qg2,Nxf5,Nf3,dxc3,bxc3,Bxc3,Rb1,Qb6+,Kh1,Qd6,Bg5,Ng3+,Kg1,Nxf1,Rxf1,Rf5,Nh4,Bd4+,Kh1,Rxf1+,Qxf1,Rf8,Qg2,Rf2,Qg1,Rf5', 'Nxf5,Bxg1,Nxd6', 'https://lichess.org/training/nESlv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('neSv3', 'Rapid', 'jaquemarzen', 1672, 'Magoggo', 1659, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bg5,Be7,Bxe7,Nxe7,Nbd2,O-O,c3,Nd7,Nh4,c5,Nxf5,Nxf5,Nf3,cxd4,cxd4,Qa5+,Qd2,Qxd2+,Nxd2,Nxd4,Bd3,Nxe5,Bb1,Rac8,O-O,Rc6,Nf3,Rfc8,Nxe5,Rc1,Bd3,Rxf1+,Rxf1,Nc2,Bxc2,Rxc2,Nd3,Rd2,Nf4,Rxb2,h4,Rxa2,Rb1,b6,g4,g6,g5,Ra4,Nd3,Rxh4,Kg2,Rg4+,Kh3,Rxg5,f4,Rh5+,Kg4,f5+,Kg3,Kf7,Ne5+,Kf6,Nd7+,Ke7,Ne5,Kd6,Nf7+,Kc5,Rc1+,Kd4,Rd1+,Kc4,Ne5+,Kb5,Rb1+,Ka6,Nc6,Kb7,Nd8+,Kc7,Nxe6+,Kc6,Nd4+,Kc5,Ne6+,Kc4,Rc1+,Kb3,Rc7,a5,Nd4+,Kb4,Nc6+,Kb3,Nd4+,Kb2,Nb5,a4,Ra7,Kb3,Nd4+,Kb4,Nc6+,Kb5,Nd4+,Kc4,Rxa4+,Kc5,Ne6+,Kb5,Ra1,Kc4,Rc1+,Kb5,Rb1+,Kc6,Nd4+,Kc5,Ne6+,Kc4,Rxb6,Rh1,Rc6+,Kb4,Rc7,Rg1+,Kf2,Rd1,Rxh7,d4,Rb7+,Kc3,Ke2,Rd2+,Kf3,Rd3+,Ke2', 'Re3+,Kd1,Rxe6', 'https://lichess.org/training/neSv3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('netez', 'Blitz', 'Trelha', 1721, 'AFallenAngel', 1692, 'e4,b5,Nf3,a6,d4,Bb7,Bd3,d6,O-O,Nd7,Nc3,e6,d5,e5,h3,Ne7,Bg5,h6,Bh4,g5,Bg3,Ng6,a3,Qe7,Na2,Bg7,c4,bxc4,Bxc4,Nb6,Bd3,h5,Qd2,g4,Bh4,f6,Nh2,Nxh4,f4,gxh3,g3,Ng2,fxe5,dxe5,Nb4,Qc5+,Kh1,Bh6,Qe2,Qd6,Qxh5+,Ke7,Ng4,Bg5,Qg6,a5,Nc6+,Bxc6,dxc6,Qxd3,Qg7+,Ke6,Rad1,Qxe4', 'Rxf6+,Bxf6,Qxf6#', 'https://lichess.org/training/netez');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('netiA', 'Rapid', 'Yarahmadi', 1727, 'PUISSANT', 1645, 'f4,d5,Nf3,c5,e3,Nf6,Bb5+,Nc6,Ne5,Bd7,Nxd7,Qxd7,O-O,a6,Be2,e5,fxe5,Nxe5,d4,Nc6,c3,cxd4,exd4,Bd6,Qe1,O-O,Bf4,Rfe8,Bxd6,Qxd6,Qd1,Re3,Nd2,Rae8,Bf3,Ne7,Qc2,Ng6,Rad1,Nh4,c4,Nxf3+,Nxf3,Re2,Qb3,Ng4,c5,Qg6,Rde1,Rxg2+,Kxg2', 'Ne3+,Kh1,Qg2#', 'https://lichess.org/training/netiA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('neTMU', 'Classical', 'kvarel', 1766, 'alexzorin', 1731, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Nc5,Qb6,Nf3,f6,Bd3,Bg6,O-O,Nd7,Ne6,c5,Bb5,Qxe6,Re1,Qb6', 'Bxd7+,Kxd7,dxc5+', 'https://lichess.org/training/neTMU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Neu28', 'Rapid', 'demontechristo66', 2059, 'valaga', 2038, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,Nf6,Nc3,e6,Bd3,Be7,O-O,Bd7,a3,O-O,Be3,a6,h3,Rc8,Rc1,b5,Bb1,Na5,Qd3,Nc4,Nd1,e5,dxe5,Nxe5,Nxe5,dxe5,Nc3,Be6,Rfd1,Bc4,Qd2,Bb3,Qxd8,Rfxd8,Rxd8+,Rxd8,Bb6,Rb8,Be3,h6,f3,Rc8,Ba2,Bxa2,Nxa2,Rxc1+,Nxc1,Kf8,Kf2,Ke8,Nb3,Kd7,Nc5+,Bxc5,Bxc5,Kc6,Bf8,Ne8,b4,h5,h4,g6,Be7,Nc7,g4,hxg4,fxg4,Ne6', 'h5,gxh5,gxh5', 'https://lichess.org/training/Neu28');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nev3b', 'Blitz', 'Edublanca', 1750, 'MaciekKosz', 1760, 'e4,e5,Nf3,f5,exf5,d6,Bd3,Nf6,Bc4,d5,Bb3,e4,Nd4,a5,Nc3,Bd7,Ba4,c6,O-O,b5,Ne6,Bxe6,Bxb5,cxb5,fxe6,b4,Ne2,Nc6,d3,Bd6,Bg5,h6,Bxf6,gxf6,dxe4,d4,Nxd4,Nxd4', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/nev3b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NeVSa', 'Rapid', 'CathGorm', 1951, 'dnada', 1754, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Bb4,Bg5,c5,e3,O-O,Rc1,cxd4,Nxd4,e5,Nf3,Bg4,h3,d4,hxg4,dxc3,bxc3,Be7,Nxe5,Qxd1+,Rxd1,h6,Bxf6,Bxf6,Nd7,Nxd7,Rxd7,Bxc3+,Ke2,b6,g3,Rfd8,Rd1,Rxd1,Kxd1,Rd8+,Kc2,Be1,Bd3,Bxf2,Rf1,Bxg3,Rf3,Bh4,Rf1,Bg5,e4,Rc8,Rf5,a6,a4,g6,Rd5,Rd8,Rxd8+,Bxd8,Kd2,Kg7,Ke3,Bf6,c5,bxc5,Bxa6,Bd4+,Kd3,h5,gxh5,gxh5,Bc8,Kh6,a5,Be5,Kc4,Bd6,a6,Bb8,Kxc5,h4,Kc6,Kg5', 'Kb7,Be5,a7', 'https://lichess.org/training/NeVSa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NEWZB', 'Rapid', 'Israotz', 1611, 'Nidical37272', 1684, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,Nc3,O-O,e5,Re8,O-O-O,Nh5,Be3,d5,Bd3,g6,h3,f6,g3,fxe5,Qxe5,Bc5', 'Qxd5+,Qxd5,Nxd5', 'https://lichess.org/training/NEWZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nEY9D', 'Rapid', 'cessdgenius', 1682, 'Festival1917', 1656, 'e4,c5,Nc3,d6,f4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,Bg4,d3,Nc6,Bd2,Nd4,h3,Bxf3,Bxf3,Nxf3+,Qxf3,Qd7,Rae1,Qxh3,Kf2,Ng4+,Ke2,Nh2,Qh1,Qg4+,Kf2,Nxf1,Rxf1,Bd4+,Kg2,Bxc3,Bxc3,Qe2+,Rf2,Qh5,Qf1,f5,exf5,Qxf5,Qh1,Qd5+,Rf3,Qxa2,Qh6,Rf6,g4,Rf7,Rh3,Qd5+,Kh2,Raf8', 'Qxg6+,Rg7,Qxg7#', 'https://lichess.org/training/nEY9D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nEYHA', 'Rapid', 'blandNovice', 1785, 'ibtapajos', 1822, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,h6,O-O,d6,h3,O-O,a3,Be6,Be3,Nd4,Bxe6,fxe6,Bxd4,exd4,Ne2,e5,b4,Bb6,a4,a6,a5,Ba7,c3,c5,bxc5,dxc5,Nxe5,Bb8,f4,Nd7,Ng6,Rf6,f5,Ne5,Nef4,dxc3,Qb3+,Kh7,Qxc3,b5,Nxe5,Bxe5,Qxe5,c4,Nh5,Rf7,Rf3,cxd3,Rg3,Raa7,Rg6,d2,Rd1,Qd3,Rd6,Qe3+,Kh1,Qe2,R6xd2,Qxh5,Kh2,Qg5,Rd6,Rae7,Re6,Rd7,Rxd7,Rxd7,Rg6,Qe7,Qxe7,Rxe7,Re6', 'Rxe6,fxe6,Kg8', 'https://lichess.org/training/nEYHA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NF06R', 'Rapid', 'Tamir_Chahal', 1942, 'radek1', 1942, 'e4,c5,Nc3,Nc6,f4,d6,Bc4,a6,a4,Nf6,Nf3,Qc7,d3,g6,O-O,Bg7,Qe1,Bg4,Qh4,Bxf3,Rxf3,O-O,f5,Nd4,Rg3,Qd7,fxg6,hxg6,Rxg6,e6,Rxg7+,Kxg7,Qg5+,Kh7,Qxf6,Qd8,Qh6+,Kg8,Bg5,f6,Qg6+,Kh8,Bh6,Rg8,Qh5,Qe8,Qh4', 'Nf3+,Kh1,Nxh4', 'https://lichess.org/training/NF06R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nf0H8', 'Blitz', 'Corvis', 1659, 'jeekiii', 1638, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,d5,exd5,Nxd5,O-O,O-O,Bxb4,Ndxb4,a3,Nd5,Nc3,Nxc3,bxc3,Bg4,Bd3,Qf6,Be2,Ne7,h3,Bxf3,Bxf3,c6,Qd3,Qf4,Rfe1,Ng6,Re4,Qg5,Rae1,Nh4,Rg4,Nxf3+,Qxf3,Qd2,Re5,Qc1+,Kh2,Qxa3,Rxg7+,Kxg7', 'Rg5+,Kh8,Qf6#', 'https://lichess.org/training/Nf0H8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nF4lE', 'Blitz', 'demchenkoff', 1671, 'Fasystyle', 1632, 'e3,e5,d4,e4,c4,f5,Ne2,Nf6,Ng3,d5,Nc3,Bb4,Bd2,Nc6,cxd5,Nxd5,Nxd5,Bxd2+,Qxd2,Qxd5,b3,Be6,Bc4,Qd6,d5,O-O-O,O-O-O,Qa3+,Qb2,Qxb2+,Kxb2,Bxd5,Bxd5,Nb4,Bc4,Nd3+,Bxd3,exd3,Nxf5,Rhf8,Nd4,Rxf2+,Ka3,c5,Nb5,a6,Nc3,b5,Ne4', 'b4+,Ka4,Rxa2#', 'https://lichess.org/training/nF4lE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nF8vi', 'Blitz', 'FM Buscapina', 2486, 'Ute-Manfred', 2582, 'e4,c5,Nc3,d6,f4,Nc6,Nf3,g6,Bc4,Bg7,O-O,e6,d3,Nge7,Qe1,O-O,f5,gxf5,Qg3,fxe4,dxe4,Ng6,Bg5,Bf6,h4,Nd4,Bxf6,Qxf6,h5,Qf4,Qxf4,Nxf4,Nxd4,cxd4,Rxf4,dxc3,bxc3,e5,Rf6,Be6,Bxe6,fxe6,Rxe6,Rac8,Rd1,Rxc3,Rdxd6,Rxc2,Rd7,Rf7,Rd8+,Kg7', 'h6#', 'https://lichess.org/training/nF8vi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NfcZw', 'Blitz', 'Pruneaux', 1673, 'Richarking', 1684, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,d3,e6,Nc3,Nge7,Be3,d6,Qd2,Bd7,Bh6,O-O,b3,a6,Bxc6,Bxc6,a4,Qc7,Rab1,d5,e5,Rfd8,Bxg7,Kxg7,Ne2,Nf5,c3,b5,axb5,axb5,d4,c4,bxc4,bxc4,Ng5,Ba4,Qf4,Qe7,Ng3,h6,Nxf5+,exf5,Nf3,Bc2,Rbc1,Bd3,Rfe1,Rdb8,Nd2,Rb2,e6,Raa2,exf7,Qxf7,Qe5+,Qf6', 'Qc7+,Qf7,Re7,Qxe7,Qxe7+', 'https://lichess.org/training/NfcZw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NfEDo', 'Rapid', 'alanromeril', 1857, 'itsmeankit', 1843, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,g3,Nbd7,Bg2,e5,O-O,c6,dxe5,Nxe5,Bg5,Nxf3+,Qxf3,h6,Bxf6,Qxf6,Qxf6,Bxf6,Rac1,Be6,b3,Rad8,Rfd1,a6,Ne2,Rd7,Nd4,Rfd8,Nxe6,fxe6,f4,Bb2,Rc2,Ba3,Rcd2,Bb4,Rd3,Kf7,e5,d5,cxd5,exd5,Bh3,Re7,Rf1,Ba5,e6+,Kg7,f5,gxf5,Bxf5,Rf8,Bh3,Rxf1+,Kxf1,Bc7,Rf3,Be5,Ke2,Bc3,Rf7+,Rxf7,exf7,Kxf7,Bc8,c5,Bxb7,d4,Bxa6,Ke6,Kd3,Bb4,h3,Kf5,g4+,Kg5,Ke4,Kh4,Kf5,Kxh3,Kg6,Kxg4,Kxh6,Kf4,Kg6,Ke3,Kf5,Kd2,Ke4,Kc3,Bc4,Kb2,a4,Kc3,Kf3', 'd3,Ke4,d2,Be2,Kxb3', 'https://lichess.org/training/NfEDo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nFEvX', 'Blitz', 'amator-01', 2054, 'sayedseko', 2008, 'e4,c5,Nf3,a6,g3,e6,Bg2,d5,e5,Nc6,O-O,Nge7,h4,Ng6,Re1,Qc7,Qe2,Nge7,c3,Nf5,g4,Nfe7,d4,cxd4,cxd4,Bd7,Nbd2,Qb6,Nb3,Ng6,h5,Nge7,Nc5,Nxd4,Nxd4,Qxc5,Be3,Qb4,a3,Qa5,b4,Qd8,Rac1,Nc6,Rc2,Be7,f4,Bh4,Rec1,Rc8,Rxc6,Bxc6,f5,Bg5,fxe6,Bxe3+,Qxe3,O-O,exf7+,Rxf7,e6,Rf6,Nf5,d4,Qg5,Rxf5,Qxf5,Bxg2,Qf7+,Kh8,Rxc8,Qxc8,e7,Bc6', 'Qf8+,Qxf8,exf8=Q#', 'https://lichess.org/training/nFEvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nfF4b', 'Classical', 'vladi15', 1633, 'Scrapablanca', 1648, 'e4,Nf6,Nc3,d5,e5,Nfd7,e6,fxe6,d4,e5,Nxd5,exd4,Bg5,Nb6,Nxb6,axb6,Nf3,Nc6,Bd3,Qd5,O-O,Bg4,Be2,Bxf3,Bxf3,Qxg5,Bxc6+,bxc6,Qxd4,Qd5,Qc3,O-O-O,a4,e5,a5,Bc5,axb6,Bxb6,Qh3+,Kb7,Qg4,Ra8,Rad1,Qf7,Rd7,Qf4,Qxg7,Qxf2+,Rxf2', 'Ra1+,Rd1,Rxd1#', 'https://lichess.org/training/nfF4b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NFFy9', 'Rapid', 'Msato', 1883, 'BobC', 1940, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Nbd7,O-O,e5,dxe5,dxe5,h3,c6,Bg5,h6,Be3,Qe7,Qd2,Kh7,Bd3,Nc5,Bc2,Rd8,Qe2,Nh5,Rfd1,Be6,b3,Nf4,Qf1,Rxd1,Rxd1,b6,Kh2,Rd8,Rxd8,Qxd8,g3,Nxh3,b4,Na6,a3,Ng5,Nxg5+,hxg5,Kg2,Bf6,Qh1+,Kg7,Qe1,Bxc4,Qc1,Bd3,Bd1,Bc4,Bf3,Qd3', 'Be2,Qd6,Bxc4', 'https://lichess.org/training/NFFy9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NfGr8', 'Rapid', 'ehjlery', 1781, 'FaustRedrose', 1648, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,d5,exd5,exd5,Bb5,Nf6,O-O,Be7,Ne5,Qc7,Qf3,Be6,f5,Qxe5,fxe6,fxe6,d3,O-O,Bf4,Qd4+,Be3,Qb4,Bxc6,d4,Bxb7,Rab8,Bf4,Rxb7,Ne4,Nd5,Qh3', 'Nxf4,Rxf4,Rxf4', 'https://lichess.org/training/NfGr8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nFhoZ', 'Classical', 'chessAlleyne', 1816, 'AMG89', 2027, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,Bg4,Nc3,Qe6+,Be2,Bxf3,gxf3,O-O-O,Be3,Nf6,Qd3,Nb4,Qd2,Nfd5,a3,Nxc2+,Qxc2,Nxe3,fxe3,Qxe3,Rd1,Rxd4,Rxd4,Qxd4,Qf5+,e6,Qxf7,Bxa3,Qxe6+,Kb8,bxa3,Qxc3+,Kf2,Qc5+,Qe3,Qh5,Qe7,Re8,Qxg7,Qh4+,Qg3,Qd4+,Kf1,Qe3,Qf2,Qc1+,Kg2', 'Rg8+,Qg3,Rxg3+', 'https://lichess.org/training/nFhoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nfiMP', 'Rapid', 'Oliverwwwww', 1722, 'dkhubler', 1806, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Bb5+,Nc6,O-O,O-O,Bb2,cxd4,cxd4,Bd7,Bc4,Qc7,Rc1,Rad8,Ne5,Bh6,Rc2,Nxe5', 'Bxf7+,Nxf7,Rxc7', 'https://lichess.org/training/nfiMP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nFiOj', 'Rapid', 'Anupam25', 1721, 'nohci96', 1715, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,Bd7,Bc4,e6,O-O,Nge7,d5,Ne5,Nxe5,dxe5,d6,Nc6,Nc3,Nd4,f4,Bxd6,fxe5,Bxe5,Bf4,Bxf4,Rxf4,Qb6,e5,Nc2+,Kh1,Nxa1,Qxa1,O-O,Qf1,Bc6,h3,Qxb2,Ne4,f5,Bxe6+,Kh8,Nf2,Rfe8,Bxf5,Rxe5,Nd3,Bxg2+,Qxg2,Qa1+,Qg1,Qxg1+,Kxg1,Re3,Rh4,g6,Bxg6', 'Rg3+,Kf2,Rxg6', 'https://lichess.org/training/nFiOj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nfk4S', 'Blitz', 'harvardrocks', 2028, 'doom27061984', 1971, 'Nf3,c6,c4,d6,e3,Nd7,Nc3,h6,d4,g5,h4,g4,Nd2,h5,e4,Bg7,Nb3,Nf8,Be3,a5,a4,Ne6,Qd2,Nf6,d5,Nf8,Be2,g3,f3,Ng6,Nd4,c5,Nf5,Bxf5,exf5,Ne5,Bf4,Nfd7,Bxg3,Rg8,Bf4,Kf8,g4,hxg4,fxg4,Qb6,g5,Qb3,Ra3,Qb4,Qc2,Nxc4,Rb3,Bxc3+,bxc3,Qxa4,h5,Na3,Qa2,Qxf4,Qxa3,Rxg5,Rxb7,Rg2,Qb2,Qf2+,Kd1,Ne5,h6,Nf3', 'Rb8+,Rxb8,Qxb8#', 'https://lichess.org/training/Nfk4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NFKOq', 'Blitz', 'ssvandine', 1944, 'WGM lorci49', 2325, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,Re1,d6,c3,O-O,d4,Bb6,Be3,Bg4,h3,Bh5,Qd3,exd4,Nxd4,Ne5,Qf1,c5,Nf5,c4,Bc2,Bxe3,Rxe3,Bg6,f4,Nc6,Ng3,d5,f5,d4,fxg6,dxe3,gxh7+,Nxh7,Nf5,Qg5,Na3,g6,h4,Qh5,Nxe3,Qxh4,Re1,Ng5,Nd5,Ne5,Re3,Rad8,Qf6,Rxd5,exd5,Ngf3+,Rxf3,Nxf3+,Qxf3,Qe1+,Qf1,Qe3+,Qf2,Qc1+,Kh2,Qxb2,Nb1,Qxa2,d6,Qa5,Qg3,Kg7,Qe5+,Kh7,Qf6,Qd8,Qf4,Rh8', 'Qxf7+,Kh6,Qxg6#', 'https://lichess.org/training/NFKOq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nfl6n', 'Blitz', 'R-Mes', 1882, 'CM EnDsOnLiMaRR', 2215, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,b6,f3,Ba6,e4,d6,Bd3,O-O,Ne2,e5,Bg5,h6,Bh4,Nc6,d5,Na5,Qa4,Qd7,Qb4,Ne8,O-O,c5,dxc6,Qxc6,Be7,Nxc4,Bxf8,Kxf8,Bxc4,Bxc4,Rfe1,a5,Qb2,Nc7,Ng3,Ne6,Rad1,Nc5,Re3,g6,Ne2,a4,Ng3,Nb3,Qf2,Qc5,f4,Re8,fxe5,Rxe5,Qf3,f5,Kh1,Qxa3,Qf4,g5,Qf3,f4,Rxd6,Qc1+,Nf1,Qxf1+,Qxf1,Bxf1,Rh3,f3,Rhxh6,fxg2+,Kg1,Rxe4,Rh8+,Ke7,Rxb6,Re6', 'Rh7+,Kf6,Rh6+', 'https://lichess.org/training/Nfl6n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NFn5k', 'Rapid', 'grubisic54', 2131, 'Alex_litl', 2088, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,cxd5,cxd5,Bf4,Nbd7,e3,a6,Bd3,b5,a3,Bb7,O-O,Be7,b4,O-O,Rc1,Rc8,h3,Nb6,Qb3,Nc4,Rfd1,h6,a4,Bc6,axb5,axb5,Ra1,Qb6,Ne5,Nxe5,dxe5,Ne4,Bxe4,dxe4,Ne2,Bd5,Rxd5,exd5,Qxd5,Bxb4,Qxe4,Bc3,Rb1,Rc4', 'Qxc4,bxc4,Rxb6', 'https://lichess.org/training/NFn5k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NFNEa', 'Rapid', 'Umpolung', 2086, 'ratnikmora', 1973, 'e4,d6,Nf3,g6,d4,Bg7,Nc3,Nf6,Bc4,O-O,O-O,Bg4,Be3,Nbd7,Qd2,c6,Bh6,b5,Bxg7,Kxg7,Bd3,e5,d5,cxd5,Nxd5,Nxd5,exd5,f5,Bxb5,Bxf3,gxf3,f4,Kh1,Nf6,Rg1,Qb6,Bc6,Rab8,b3,Ne8,h4,Qd8,Rg4,Rf5,Rag1,Rh5,Bxe8,Qxe8,Qd3,Qe7,Rxg6+,Kh8,R6g4,Rxh4+,Rxh4', 'Qxh4+,Kg2,Rg8+,Kf1,Qh3+,Ke1,Rxg1+', 'https://lichess.org/training/NFNEa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nfNRu', 'Blitz', 'Huynhdanh', 2036, 'tatnur', 1951, 'd4,d5,c4,c6,Nc3,e6,cxd5,exd5,e3,Nf6,Bd3,Bg4,Qc2,h6,h3,Be6,Nf3,Bd6,O-O,Nbd7,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bf5,Bxf5,Qxf5,O-O,Ne5,Be7,Be3,Qc8,Qf3,Qe6,b3,Rad8,Rac1,Nd7,Bf4,Bf6,Rfe1,Bxe5,Bxe5,Nxe5,Rxe5,Qd6,Rd1,Rfe8,Rf5,Re7,d5,Rde8,dxc6', 'Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/nfNRu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nfNx6', 'Blitz', 'IM manitodeplomo', 2447, 'Iamshubhamshukla', 2237, 'd4,e6,c4,d5,Nf3,Nf6,Nc3,Bb4,Qa4+,Nc6,e3,Bxc3+,bxc3,O-O,Rb1,Bd7,Qc2,b6,Bd3,dxc4,Bxc4,Na5,Bd3,c5,O-O,c4,Be2,Bc6,Nd2,Re8,e4,e5,d5,Bd7,Nxc4,Nxc4,Bxc4,Rc8,Ba6,Rc5,Be3,Ra5,Bd3,Ba4,Qe2,Qd6,c4,Bd7,h3,Rc8,Rfc1,Qa3,Rc2,Ba4,Rcb2,Nd7,Qg4', 'Qxd3,Bh6,g6', 'https://lichess.org/training/nfNx6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nFoFz', 'Blitz', 'Transnet', 2323, 'WGM queenchess2', 2323, 'c4,f5,e4,fxe4,d3,exd3,Bxd3,Nf6,g4,g6,g5,Nh5,Qc2,d6,f4,Nc6,a3,Nd4,Bxg6+,hxg6,Qxg6+,Kd7,Qe4,c5,Nc3,e6,Be3,Bg7,O-O-O,a6,Nf3,Nxf3,Qxf3,Bxc3', 'Bxc5,Be5,fxe5', 'https://lichess.org/training/nFoFz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nfs7a', 'Rapid', 'SubramanianTV', 1674, 'Al_Per_61', 1908, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nc3,Be7,Be3,O-O,Be2,Bf6,Qd2,Bf5,h3,Nc6,a3,Re8,Nf3,Qe7,O-O,Rad8,Rfe1,Na5,Nd5,Nxd5,Qxa5,Nxe3,fxe3,Qxe3+,Kh1,Bg6,Bf1,Qf4,Qxc7,Bh5,Rxe8+,Rxe8,Re1,Rd8', 'Qxd8+,Bxd8,Re8#', 'https://lichess.org/training/nfs7a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NFsdu', 'Rapid', 'Marcel2011', 1789, 'andyhug', 1776, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb6,O-O,Nge7,d5,Na5,Bd3,O-O,Ba3,d6,Bb4,Bg4,Qa4,Bxf3,gxf3,Bd4,Nc3,Bxc3,Bxc3,b6,Kh1,Nb7,Rg1,g6,Qc2,Nc5,Ba6,Nxa6,Qb2,Nc5,Bh8,f6,Bxf6,Qd7,Rg2,Qh3,Bxe7,Rxf3,Rag1,Re8', 'Rxg6+,hxg6,Rxg6+,Kf7,Qg7#', 'https://lichess.org/training/NFsdu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NfsrR', 'Blitz', 'Audon99', 2204, 'andygee121', 2054, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,g6,d3,Bg7,f4,e6,Nf3,d5,exd5,exd5,O-O,O-O,h3,Re8,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Qd3,a5,Be3,Ba6,Qd2,Bxf1,Rxf1,Rxe3,Qxe3,d4,Qf3,dxc3,Qxc3,Rc8,Qc5,Nh5,Kh2,Bxb2,f5,Bd4,Qc4,Qd6,fxg6,Qxg3+,Kh1,Nf4', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/NfsrR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NfTCu', 'Rapid', 'rw83', 1972, 'Dr-Lepton', 2138, 'b3,e5,Bb2,Nc6,Nc3,d5,e3,Nf6,Qe2,Bd6,O-O-O,O-O,d3,a6,Kb1,b5,f3,Bd7,e4,d4,Nd5,Nxd5,exd5,Nb4,a3,Nxd5,c4,dxc3,Bc1,a5,d4,Bf5+,Ka2,Nb4+,Ka1,Nc2+,Ka2,Nb4+,Ka1,c2,Rd2,Re8,Qxb5,exd4,Qxf5,Be5,Bd3,g6,Qe4,f5,Qe2,Bf4,Qf1,Bxd2,Bc4+,Kg7,Bxd2,c5,Kb2,Qf6,Ne2,a4,Nc1,axb3,axb4,Qb6,Nxb3,cxb4,Kxc2,Ra2+,Kb1,Rea8,Qe2,Qa7,Re1,Kh8,Nxd4,Ra1+,Kc2,Rxe1,Bxe1,Qxd4,Bxb4,Rc8,Kb3,Rb8,f4,Qxf4,g3,Qd6', 'Qb2+,Qf6,Qxf6#', 'https://lichess.org/training/NfTCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NfVDr', 'Classical', 'maki_7', 1777, 'Player1_Bahia', 1891, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Bb4,e3,Bxc3+,bxc3,h6,Bh4,b6,cxd5,exd5,Nf3,Bg4,Bb5+,c6,Be2,Bxf3,Bxf3,O-O,O-O,Qd6,Re1,Nbd7,Qc2,Rae8,e4,dxe4,Bg3,Qe6,Bxe4,Nxe4,f3,f5,fxe4,fxe4,Re3,Nf6,h3,Nh5,Be5,Qc4,Rxe4,Nf6,Rf1,Nxe4,Rxf8+,Rxf8,Qxe4,Qxc3,Qg6,Rf7,Qe6,a5,Qe8+,Rf8,Qe6+,Kh8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/NfVDr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nfvI4', 'Rapid', 'amjadqq', 1815, 'Atajan1210', 1843, 'e4,c5,Nf3,Nc6,Nc3,Nf6,h3,e5,a3,d6,Bc4,Be6,d3,Bxc4,dxc4,Be7,Be3,O-O,g4,Ne8,Nd5,Nc7,Nxe7+,Qxe7,g5,Ne6,Qd2,f5,exf5,Rxf5,Nh2,Nxg5,O-O-O,Ne4,Qe2,Raf8,Rdf1,Ng5,Qg4,Ne6,Rhg1,R5f6,Qh5,Nf4,Bxf4,exf4,Ng4,Rf5', 'Nh6+,Kh8,Nxf5', 'https://lichess.org/training/nfvI4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NFVrd', 'Rapid', 'Asterix888', 1793, 'Fetare', 1790, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nc6,Bf4,e6,Nb5,e5,dxe5,Qa5+,Nc3,Bb4,Ne2,d4,Nxd4', 'Bxc3+,bxc3,Qxc3+,Bd2,Qxd4', 'https://lichess.org/training/NFVrd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NFw5C', 'Blitz', 'L_p2105', 1580, 'Sasdelli', 1570, 'e4,Nf6,Nc3,g6,Bc4,d6,d3,Nbd7,Nf3,Nb6,Bb3,a5,a3,a4,Ba2,Bg4,O-O,Bg7,Bg5,h6,Bf4,g5,Be3,O-O,Rb1,Kh7,Bxb6,cxb6,Nb5,Ra5,Nc3,Nh5,h3,Bxf3,Qxf3,Nf4,Rfe1,Qc7,Nd5,Nxd5,Bxd5,f5,Be6,fxe4,Qxe4+,Kh8,c3,Re5,Qg6,Qc5,Rxe5,Qxf2+,Kh2', 'Bxe5+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/NFw5C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NFx9r', 'Rapid', 'surayu', 1705, 'ras14k', 1741, 'd4,d5,Nc3,Nc6,Nf3,Nf6,Bg5,Bg4,Bxf6,gxf6,e4,dxe4,Nxe4,Nxd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/NFx9r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NfxxM', 'Rapid', 'Roasted8', 1741, 'rezaeifakhroddin', 2176, 'd4,e6,c4,f5,g3,Nf6,Nf3,d5,b3,c6,Bg2,Bd6,Bg5,Nbd7,O-O,O-O,Ne1,Qe8,Bxf6,Nxf6,f3,Bc7,Nd2,Bb6,Nc2,e5,c5,Bc7,e4,exd4,Nxd4,fxe4,fxe4,dxe4,Nxe4,Nxe4,Re1,Qe7,b4,Qf6,Rxe4,Be5,Rb1,Bf5,Nxf5,Qxf5,Qb3+,Kh8,Rf1,Qg5,Qc2,Rad8,Rxf8+,Rxf8,Qe2,Qc1+', 'Bf1,Bc3,Re8', 'https://lichess.org/training/NfxxM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NFycQ', 'Rapid', 'B1vrn', 1697, 'fillydor', 2004, 'd4,d5,c4,e6,Nc3,Nf6,e3,c6,Nf3,Nbd7,cxd5,exd5,Bd3,Bd6,O-O,Nf8,Re1,Ng6,e4,Nxe4,Nxe4,dxe4,Bxe4,O-O,Bxg6,fxg6,h3,Qf6,d5,cxd5', 'Qxd5+,Qf7,Qxd6', 'https://lichess.org/training/NFycQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nFynh', 'Rapid', 'giovanniiii', 1894, 'Zeemane', 1813, 'd4,Nf6,c4,d6,Nc3,g6,e4,Bg7,Be3,e5,Nf3,Nc6,Be2,O-O,O-O,Re8,d5,Ne7,h3,Kh8,Qd2,Neg8,c5,Nh5,Bb5,Rf8,cxd6,cxd6,Rac1,f5,Ba4,f4,Nb5,fxe3,Qxe3,Bh6,Qa3,Bxc1,Rxc1,Rf6,Rc7,Rxf3,Qxf3,Qf6,Qc3,Qd8,Rf7,Bd7', 'Nxd6,Bxa4,Qxe5+', 'https://lichess.org/training/nFynh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nfyP5', 'Rapid', 'nbgdblokovi', 2002, 'Nokolicious', 2209, 'e4,e5,Bc4,Nf6,Nf3,Bc5,O-O,h5,Nxe5,Nc6,Nxf7,Qe7,Nxh8,d5,exd5,Ne5,d4,Bg4,Qe1,Bxd4,c3,Bc5,b4,Bd6,Na3,O-O-O,Ng6,Nxg6,Qxe7,Nxe7,Bg5,Bd7,Rfe1,a5,Nc2,b5,Bd3,Nexd5,bxa5,Nxc3,Nd4,Ba3,Bc1,Bb4,Bd2,Bg4,f3', 'Rxd4,Bxc3,Bxc3', 'https://lichess.org/training/nfyP5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ng0kJ', 'Rapid', 'blucatfish', 1863, 'ppion', 1855, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bb5,c5,c3,Qb6,a4,Nc6,Ngf3,cxd4,Bxc6,bxc6,cxd4,c5,a5,Qc7,Nb3,cxd4,Nbxd4,Ba6,Qa4,Rb8,Qc6,Qxc6,Nxc6,Rb7,Nfd4,Bc5,f4,O-O,Kf2,Bb5,Kf3,a6,b4,Bxd4,Nxd4,Bc4,Bd2,Rfb8,Nc6,Re8,g4,f6,exf6,Nxf6,Bc3,h6,Rhe1,Rc7,Nd4,Kf7,f5,Ne4,fxe6+,Kf6,Nb5+,Nxc3,Nxc3,Rxe6,h4,d4,g5+,hxg5,hxg5+,Kf5,Na4,Rg6,Re4,Bd5,Re1,Rxg5,Nc5,Rc6,Kf2,Bxe4,Nxe4,Rc2+,Kf3,Rh5,Ng3+,Kg5', 'Re5+,Kf6,Rxh5', 'https://lichess.org/training/ng0kJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ng2Nz', 'Rapid', 'Electric_Max', 1743, 'Roussama', 1723, 'd4,Nf6,c4,c6,Nc3,e6,e4,Be7,Bd3,d6,Nge2,Nbd7,O-O,O-O,f3,e5,Be3,exd4,Nxd4,Ne5,Nf5,Bxf5,exf5,Nxd3,Qxd3,d5,cxd5,Nxd5,Nxd5,Qxd5,Qxd5,cxd5,Rad1,Rfd8,Bd4,b6,a3,Rac8,Rd2,Bc5,b4,Bxd4+,Rxd4,Rc4,Rfd1,Rxd4,Rxd4,Kf8,Kf2,Ke7,g4,Kf6,f4,h6,h4,g5,fxg6,fxg6,Kf3,b5,g5+,hxg5,hxg5+,Ke6,Kg4,Rc8,Rd3,Rc4,Re3+,Re4,Kf3,Kf5,Rxe4', 'dxe4+,Ke3,a6,Kd4,Kxf4', 'https://lichess.org/training/ng2Nz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ng4Wp', 'Rapid', 'sofasonke', 1906, 'selbino', 1834, 'e4,e5,c3,a6,d4,Nc6,Nf3,d6,dxe5,Bg4,exd6,Bxd6,Be2,Bxf3,Bxf3,Ne5,Be2,h6,O-O,Ne7,f4,N5g6,e5,Bc5+,Kh1,Qc8,b4,Bb6,Bc4,O-O,Nd2,Nf5,Ne4,Rd8,Qe2,Ba7,g4,Nfh4,h3,b5,Bb3,Qb7,Kh2,Kf8,Bb2,f5,gxf5,Nxf5,c4,Bd4,Nc5,Qc8,e6,Bxb2,Qxb2,Nge7,cxb5,c6,bxc6,Qxc6,Rad1,Rxd1,Rxd1,Qf3,Nd7+,Kg8,Rg1', 'Qxf4+,Kh1,Ng3+,Rxg3,Qxg3', 'https://lichess.org/training/ng4Wp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NG7g1', 'Classical', 'kvv77708', 1787, 'kivircik1504', 1783, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,d6,cxd4,Nge7,Bxf7+,Kxf7,Ng5+,Ke8,Qb3,d5,Qf3,Rf8,Qh5+,g6,Qxh7,Bg4,Qh4,Qd7,h3,Be2,Nh7,Bxf1,Nxf8,Qd8,Ne6,Qd6,Qh8+,Kd7,Qxa8,Qxe6,Kxf1,Qxe4,Be3,Qd3+,Kg1,Nxd4,Qxa7,Nc2,Qxa5,Nxa1,Qe1,Nc2,Qc1,Nxe3,fxe3,Nf5,Kf2,d4,exd4,Nxd4,Qd2,Qf5+,Kg3,Qe5+,Kf2,g5,Nc3,Kc8,Qe3,Qxe3+,Kxe3,Nc2+,Ke4,Kd7,g4,Ke6,a4,c5,Nd5,c4,Nc7+,Kd6,Nb5+,Ke6', 'Nd4+,Nxd4,Kxd4', 'https://lichess.org/training/NG7g1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ng86L', 'Rapid', 'BlunderET', 2034, 'RadSob', 2023, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Be2,Nf6,Nc3,e6,Be3,Be7,Qd2,a6,a3,Bd7,Bf3,O-O,Nxc6,Bxc6,O-O,Rc8,Rad1,Qc7,Qe2,Rfd8,Rfe1,b5,Bf4,e5,Bg5,h6,Bxf6,Bxf6,Bg4,Rb8,Nd5,Bxd5,Rxd5,Bg5,c3,Rf8,Red1,Rbd8,Qd3,Be7,Qg3,Qc4,Bf5,Qe2,R5d2,Qh5,Qf3,Qxf3,gxf3,g6,Bh3,f5,exf5,gxf5,Kf1,Kg7,Ke2,Kf6,Rg1,d5,Rg2,Bc5,Rd1,d4,b4,Bb6,cxd4,Bxd4,Rc1,Rd6,Rc2,Ke7,Rg7+,Kd8,Rgc7,Rdf6,Rc8+,Ke7,R2c7+,Kd6,Rc6+,Kd5,Rxf6,Rxf6,Rd8+,Kc4,Rc8+,Kb3,f4,e4,Rd8,Bb2,Rd5,Bxa3,Bxf5,Bxb4,Bxe4,Rxf4,Rd3+,Ka4,f3,Rh4,Rd1,Rxh2+,Kd3,h5,Ra1+,Kb3', 'Bd5+,Kb2,Ra2+,Kb1,Rxh2', 'https://lichess.org/training/ng86L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ng8RO', 'Rapid', 'alik_garai', 2127, 'SallehAsah', 2094, 'd4,d6,Bf4,Bf5,e3,Nc6,Nd2,e5,d5,Nb4,e4,Bg4,f3,exf4,fxg4,Qh4+,g3,fxg3,Ngf3,Qxg4,h3,Qd7,a3,Na6,Bb5,c6', 'dxc6,bxc6,Bxa6', 'https://lichess.org/training/ng8RO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NG9Lj', 'Blitz', 'Kastling', 2275, 'IM zirkuspony', 2352, 'e4,e5,f4,exf4,Nf3,d6,d4,g5,Nc3,Bg7,g3,g4,Nh4,f3,Be3,Nc6,Qd2,Bd7,O-O-O,Nf6,h3,Qe7,Nf5,Bxf5,exf5,h5,d5,Ne5,Bb5+,Kf8,hxg4,hxg4', 'Rxh8+,Bxh8,Bh6+', 'https://lichess.org/training/NG9Lj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ng9P7', 'Rapid', 'Pedjak', 1636, 'GUMOTO', 1729, 'd4,d5,c4,c6,c5,b6,b4,bxc5,bxc5,e5,e3,Qe7,Be2,exd4,exd4,Bg4,h3,Bxe2,Nxe2,Nf6,O-O,Qd8,Bg5,Be7,Nbc3,O-O,Re1,Ne4,Nxe4,dxe4,Bxe7,Qxe7,Ng3,f5,f3,Qh4,Kh2,exf3,Qxf3,f4,Ne4,Nd7,Nd6,Rab8,Qxc6', 'Qg3+,Kg1,f3,Qd5+,Kh8,Qxf3,Rxf3', 'https://lichess.org/training/Ng9P7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ngBoc', 'Rapid', 'backgammonblows', 1764, 'gerodes', 1669, 'c4,c5,g3,g6,Bg2,Bg7,e3,Nc6,Ne2,Nf6,Nbc3,O-O,O-O,a6,d4,cxd4,exd4,d6,Re1,Bg4,h3,Bd7,a3,Qc8,Rb1,Bxh3,Bxc6,Qxc6,Nf4,Bg4,Qb3,Nh5,d5,Qc5,Rxe7,Nxg3,Be3,Ne2+,Ncxe2,Qc8,Qxb7,Qf5,Re1,Be5,Ng3,Qc2,Rxe5,dxe5,Ng2,Rfb8,Rc1', 'Qxc1+,Bxc1,Rxb7', 'https://lichess.org/training/ngBoc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NgBwV', 'Classical', 'Tad11', 1625, 'LUC1971', 1644, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,h3,Bh5,d3,Nf6,Qe2,Bd6,Bg5,h6,Bh4,Qd7,Bxf6,gxf6,Qe3,b6,Nh4,Bg6,Qf3,O-O-O,Qxf6', 'Be7,Qf3,Bxh4', 'https://lichess.org/training/NgBwV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ngbxc', 'Rapid', 'Drovosek59', 1858, 'Rleijser', 1801, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,h3,O-O,Nf3,Bf5,Nh4,Be6,cxd5,Nxd5,Bd2,c5,Nf3,Nc6,Bb5,cxd4,Nxd5,Qxd5,Bxc6,Qxc6,O-O,dxe3,Bxe3,Bxb2,Rb1,Bg7,Nd4,Bxd4,Qxd4,Rfd8,Qb2,b6,Rbc1,Qe4,Rfe1,Qb7', 'Bh6,f6,Rxe6', 'https://lichess.org/training/Ngbxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NgCfR', 'Rapid', 'fin123', 2049, 'SzlsKy', 1879, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Nf5,O-O,Be3,Bb4,Bd3,d5,exd5,Qxd5,Qf3,Qxf3,gxf3,Ne5,Nd4,c5,Nb5,Nxf3+,Ke2,Ne5,Ne4,Bg4+,Kf1,Nd5,Bxc5,Bxc5,Nxc5,Rac8,Ne4,Nf4,Nxa7,Rxc2,Bxc2', 'Be2+,Ke1,Nf3#', 'https://lichess.org/training/NgCfR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NgDHX', 'Rapid', 'Sjec12', 1971, 'BreitnerP', 1964, 'c4,e6,g3,d5,cxd5,exd5,Bg2,Nf6,Nc3,d4,Ne4,Nc6,Nxf6+,Qxf6,Nf3,Bc5,O-O,O-O,d3,Be6,a3,a5,Rb1,a4,Qc2,Bb6,Nd2,Rfe8,Bxc6,bxc6,Qxc6,Qe5,Nf3,Qxe2,Nxd4,Bxd4,Bf4,Qxd3,Rfd1,Bxf2+,Kxf2,Qb3,Qxc7,Rac8,Qd6,Rc2+,Rd2,Bg4,Re1', 'Qf3+,Kg1,Rxe1#', 'https://lichess.org/training/NgDHX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ngDXV', 'Classical', 'adriantangh', 2020, 'Similac', 1961, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,h3,Nbd7,Nf3,b6,Qd2,Bb7,Bd3,O-O,Bh6,c5,Bxg7,Kxg7,d5,Re8,h4,h5,Nh2,e6,dxe6,Rxe6,f3,Ne5,O-O,d5,f4,Nxd3,cxd3,dxe4,f5,e3,Qe2,Re7,fxg6,fxg6,Rf4,Qc7,Raf1,Rf8,g4,Qc6,Ne4,Nxe4,Rxf8,Nf6,Rf3,Kxf8,g5,Qd6', 'Rxf6+,Qxf6,gxf6', 'https://lichess.org/training/ngDXV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nge3N', 'Blitz', 'evojtek', 1532, 'perbiricik46', 1663, 'e4,e5,f4,Nc6,Nf3,d6,Bb5,Bg4,O-O,Nf6,d3,Be7,h3,Bd7,Bxc6,Bxc6,fxe5,dxe5,Nxe5,Qd4+,Kh1,Qxe5,Bf4,Qxb2,Nd2,O-O-O,Nc4,Qd4,Rb1,h6,Na5,Bc5,Nxc6,bxc6,Rf3,Bb6,c3,Qxc3,Be3,Nxe4,Rxf7,Bxe3', 'Qg4+,Rd7,Qxd7#', 'https://lichess.org/training/nge3N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGEuI', 'Rapid', 'mohamedamin-1238', 1726, 'yan-z', 1725, 'c4,e6,Nc3,Nf6,g3,d5,cxd5,exd5,e3,Be6,Bg2,c6,Nge2,Nbd7,O-O,h6,a3,Ne5,d3,Bd6,Nf4,Bf5,h3,Bh7,b4,O-O,Bb2,b5,Nce2,Qb8,Nd4,Qb6,Rc1,Rac8,Re1,g5,Nh5,Nxh5,Qxh5,Nxd3,Qxh6,Nxb2,Qxg5+,Kh8', 'Qf6+,Kg8,Qxd6', 'https://lichess.org/training/nGEuI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NgfyL', 'Classical', 'Nardyy', 1838, 'Aapriatna09', 1910, 'd4,c6,e4,d6,Bd3,Nf6,Ne2,Bg4,O-O,Nbd7,f3,Bh5,Nf4,Bg6,Nxg6,hxg6,c4,e5,d5,Nh5,b4,Qh4,h3,Ng3,Rf2,f5,dxc6,bxc6,exf5,gxf5,Nd2,Qd4,Nb3,Qb6,Kh2,Qxf2,Bg5,e4,fxe4,fxe4,Qg4,exd3', 'Qe6+,Be7,Qxe7#', 'https://lichess.org/training/NgfyL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGg70', 'Rapid', 'chinchillerchiller', 1996, 'Al_fie', 1824, 'e4,e5,Bc4,Bc5,Qh5,Qe7,Nf3,Nc6,Nc3,Nf6,Qg5,O-O,Nd5,Nxd5,Bxd5,Nd4,Qxe7,Nxf3+,Ke2', 'Nd4+,Kd1,Bxe7', 'https://lichess.org/training/nGg70');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGH6K', 'Classical', 'Fabiano___Caruana', 1695, 'igorpiagio', 1742, 'f4,e5,fxe5,Qh4+,g3,Be7,Nf3,Qa4,Nc3,Qa5,Bg2,Nc6,d4,b6,Bd2,Bb7,Ne4,Qd5,Nc3,Qa5,O-O,O-O-O,Ng5,Bxg5,Bxg5,f6,exf6', 'Qxg5,fxg7,Qxg7', 'https://lichess.org/training/nGH6K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NgHOZ', 'Blitz', 'Leonelg94', 1721, 'Crist24', 1786, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be2,h5,Bg5,Qd4,Be3,Qxb2,Nd2,Bxe3,fxe3,Qe5,Nf3,Qc3+,Nd2,Bg4,Bxg4,Nxg4,Ke2,O-O-O,h3,Ne5,Nf3,Rhe8,Rb1,Nc4,Rb3,Qa5,Qb1,Na3,Qb2,Nb5,c4,Nd6,e5,Qc5,Nd2,Nf5,d4,Rxd4,exd4,Nxd4+,Kd1,Qxe5,Rxb7', 'Qe2+,Kc1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/NgHOZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nghvQ', 'Blitz', 'WFM Caroltorres84', 2123, 'StefizZagorja', 2129, 'c4,e5,Nc3,c5,g3,d6,Bg2,Nc6,Nd5,f5,d3,Nf6,Bg5,Be7,Nxe7,Qxe7,e3,O-O,Ne2,Bd7,Nc3,h6,Nd5,Qd8,Bxf6,Rxf6,Nxf6+,Qxf6,Bd5+,Kh7,O-O,f4,Qf3,Rf8,exf4,Nd4,Qg2,exf4,f3,b6,Rae1,Kh8,b3,Nf5,g4,Ne3,Rxe3,fxe3,Re1,Qd4,Qe2,h5,gxh5,Rf5,Qxe3,Qh4,Qe7,Rg5+,Kh1,Bf5,Qf8+,Kh7,Qg8+,Kh6,Qh8+,Bh7,Bg8', 'Qxe1#', 'https://lichess.org/training/nghvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NghX3', 'Rapid', 'Manurookie', 1880, 'fattestfattony', 1931, 'e4,d5,e5,c5,Nf3,Bg4,d4,cxd4,Qxd4,Nc6,Qxg4,e6,Bd3,Nge7,Nc3,Ng6,Bxg6,hxg6,Bg5,Be7,Bxe7,Qxe7,O-O-O,a6,h3,b5,Kb1,Na5,Nd4,Nc4,Qe2,Rc8,f4,Nxb2,Kxb2,Qb4+,Kc1,Qxc3,Qd3,Qa5,Rhe1,Qxa2,Kd2,Qa5+,Ke3', 'Rc3,Kf2,Rxd3', 'https://lichess.org/training/NghX3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGIxw', 'Classical', 'oldvizard', 1871, 'joshphorlarb', 1882, 'd4,d5,c4,Bf5,Nc3,c6,Nf3,e6,cxd5,cxd5,Bf4,Bd6,Bg5,f6,Bh4,Ne7,e3,Nbc6,a3,O-O,Bd3,Rc8,Rc1,a6,O-O,Na5,Bxf5,Nxf5,Bg3,Nxg3,hxg3,Qb6,Na4,Qb5,Nd2', 'Rxc1,Qxc1,Qxa4', 'https://lichess.org/training/nGIxw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NGJr1', 'Classical', 'cometodie', 1683, 'Saharchuk-02', 1683, 'e4,e5,Bc4,Nf6,Nc3,Nc6,Nf3,d6,O-O,h6,d3,Bg4,Be3,Nd4,Bxd4,exd4,Ne2,c5,Ng3,a6,h3,Bxf3,Qxf3,b5,Bd5,Nxd5,exd5,Be7,Nf5,O-O,Rfe1,Re8,Qg3,Bg5,Rxe8+,Qxe8,Nxd6,Qb8,Qe5,a5,f4', 'Bf6,Qe8+,Qxe8,Nxe8,Rxe8', 'https://lichess.org/training/NGJr1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NGjUH', 'Rapid', 'gertygo', 2150, 'vidac', 1630, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,e6,c4,Nc6,Nc3,Nb4,Rc1,Ne4,a3,Nxc3,Rxc3,Na2,Rb3,a6,Rxb7,Rb8,Qa4+,Ke7,Rxc7+,Kf6,Bg5+,Kg6,Bxd8,Rxb2,Nh4+,Kh5,Qe8,Rb1+,Ke2,Nc3+,Kf3,Be4+,Kg3,Bd6+,f4,Rxe8,Rd7,Bb8,Kh3,Bf5+,Nxf5,exf5,Be2+,Nxe2,Rxb1', 'Rxe3+,g3,Nxf4#', 'https://lichess.org/training/NGjUH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGKXn', 'Classical', 'DB07', 1995, 'panditwinner', 1952, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,O-O,Nf6,Re1,O-O,c3,d6,d4,exd4,cxd4,Bb4,Bd2,Bxd2,Nbxd2,Bg4,h3,Bh5,g4,Bg6,a3,Re8,Bc2,Ne7,Nf1,h6,Ng3,Rc8,Rc1,Nc6,Nf5,Na5,b3,c5,d5,c4,b4,Nb3,Bxb3,cxb3,Qxb3,Rxc1,Rxc1,Nxe4,N3d4,Qg5,Rc6,Bxf5,Nxf5,g6,Nxd6,Nxd6,Rxd6,Qf4,Rxa6', 'Re1+,Kg2,Qe4+,Qf3,Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/nGKXn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGLUr', 'Rapid', 'RizaGM', 1919, 'infinitary', 2003, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Ne7,Bg5,Qb6,Nbd2,Nd7,O-O,c5,c3,h6,Bh4,Nf5,Bg3,Qxb2,Rfb1,c4,Qxf5,Qxc3,Qg4,b5,Rc1,Qd3,Nf1,b4,Ne1,Qa3,Nc2,Qd3,Nfe3,b3,Rd1,bxc2,Rxd3,cxd3,Nxc2,dxc2,Rc1,Rb8,h4,Rb1,Bf4,Ba3,Qe2,Rxc1+', 'Bxc1,Bxc1,Qxc2', 'https://lichess.org/training/nGLUr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGm3d', 'Rapid', 'Amirabbas574', 1883, 'spskiller', 1747, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Qe2,a6,Bxd7+,Qxd7,Nf3,Nc6,c3,Nf6,O-O,e6,d4,Bd6,h3,O-O,Nbd2,Rfe8,Qd3,h6,Re1,Re7,Ne5,Qc7,Ndf3,Ne4,Nxc6,Qxc6,Nd2,Nf6,Qf3,Qc7,Nf1,Rae8,Bxh6,gxh6,Qxf6,Bf4,Ng3,Bg5,Qe5,Qb6,Re2', 'f6,Qe3,Bxe3', 'https://lichess.org/training/nGm3d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGmbC', 'Blitz', 'Muhammaddidin', 2209, 'paguyana', 2198, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nb6,Nc3,g6,Be3,Bg7,Rc1,O-O,Nf3,Nc6,Be2,Bg4,d5,Bxf3,Bxf3,Ne5,b3,c6,Bxb6,axb6,O-O,Qc7,Qe2,Rfd8,Rfe1,Bf6,Ne4,Kg7,Nxf6,exf6,Be4,Re8,Qb2,Kg8,g3,h5,Bg2', 'Nd3,Rxe8+,Rxe8,Qd2,Nxc1', 'https://lichess.org/training/nGmbC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ngnb7', 'Classical', 'GilfordOfLegend', 1786, 'ouchmaster', 1775, 'd4,Nf6,c4,e6,a3,c5,e3,d5,Nf3,Bd6,Nc3,Bd7,Qb3,Qc7,Nb5,Bxb5,Qxb5+,Qc6,cxd5,Nxd5,e4,Nc7,Qxc6+,Nxc6,dxc5,Bxc5,b4,Bd4,Nxd4,Nxd4,Bd3,Nb3,Rb1,Nxc1,Rxc1,O-O-O,Ke2,Rd6,e5,Rd5,Be4,Rd7,Rhd1,b6,Rd6,Rhd8,Rdc6,Kb8,R6c3,Nb5,Rd3,Rxd3,Bxd3,Nd4+,Ke3,Nf5+,Bxf5,exf5,f4,Re8,Re1,f6,Kf3,fxe5,Rxe5,Rxe5,fxe5,Kc7,Kf4,g6,g4,fxg4,Kxg4,Kd7,Kf4,Ke6,h4,b5,Ke4,h5', 'Kf4,Kd5,Kg5,Kxe5,Kxg6', 'https://lichess.org/training/Ngnb7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NGPC1', 'Rapid', 'feralisxa', 1693, 'Wespe007', 1692, 'e4,c5,Qh5,Nf6,Qf3,Nc6,Bb5,e6,Bxc6,bxc6,Nc3,d5,exd5,cxd5,d4,Qb6,Bg5,Be7,Bxf6,Bxf6,b3,Bxd4,Nge2,Ba6,Na4,Qa5+,c3,Bxe2,Kxe2,Bf6,Rab1,O-O,Rhc1,c4,Kf1,Qb5,Qe2,Rab8,Kg1,cxb3,Qxb5,Rxb5,axb3,Rfb8,c4,Rxb3,Rxb3,Rxb3,cxd5,g6,dxe6,Bg5,Rc8+,Kg7,Kf1,fxe6,Nc5,Rc3', 'Nxe6+,Kf6,Rxc3', 'https://lichess.org/training/NGPC1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NgqCh', 'Blitz', 'NM Jcrossover', 2352, 'BenDerq', 2234, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,c6,Nf3,Nbd7,cxd5,cxd5,Bb5,O-O,O-O,a6,Bd3,b5,a3,Nb6,Rc1,Nc4,Qe2,Bd7,Ne5,Rc8,Bb1,h6,Bxf6,Bxf6,Ng4,Rb8,Qd3,g6,Nxh6+,Kg7,Ng4,Nxb2,Qe2,Nc4,e4,Re8,e5,Bg5,f4,Bh6,Nf6,Rh8,Qg4,Nxa3,Ncxd5,Nxb1,Rxb1,exd5,Nxd7,Rb7,Nc5,Rb6,f5,Be3+,Kh1,Qh4,f6+,Kg8,Qc8+,Kh7,Qc7,Bxd4,Qxf7+,Kh6,Nd7,Kg5,h3,Qg3,Rf3,Rxh3+,gxh3,Qxf3+,Kh2,Qf2+,Kh1,Qf3+,Kh2,Qf4+,Kh1,Bxe5', 'Rg1+,Kf5,Qxg6+', 'https://lichess.org/training/NgqCh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGr2R', 'Rapid', 'twistedsnake', 2021, 'Zenostar', 1923, 'e4,c5,Nf3,Nc6,c3,g6,d4,cxd4,cxd4,Bg7,Be3,Nf6,Nc3,O-O,Bd3,Ng4,Qd2,Nxe3,Qxe3,d6,O-O,Bg4,d5,Ne5,Nxe5,Bxe5,f4,Bg7,f5,Qb6,Qxb6,axb6,h3,Bh5,g4,gxf5,gxh5,fxe4,Bxe4,Bd4+,Kh2,Kh8,Rad1,Be5+,Kh1,b5,Nxb5,Rxa2,Nd4,Rxb2,Nf3,Bg7,Rd2,Rb4,Bf5,b5,Rb1,Rf4,Bg4,f5,Rxb5,fxg4,Ng5,Rf1+,Kg2,Be5,hxg4,h6,Ne6,R8f4,Kh3,R4f3+,Kg2,Rf6,Rb8+,Kh7,Re8,R1f3,Rxe7+,Kg8,Re8+,Kh7,Ra2', 'Rg3+,Kh2,Ra3+,Kg1,Rxa2', 'https://lichess.org/training/nGr2R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NgrB6', 'Classical', 'danielvsk', 1623, 'sportowiec', 1652, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,e5,Nxc6,bxc6,Bc4,d6,Qf3,Qe7,Bg5,f6,Bh4,g5,Bg3,Nh6,h4,Bg7,hxg5,fxg5,Nd2,Bg4,Qa3,Be6,O-O-O,O-O,f3,a5,Bxe5,Bxe5,Rxh6,Bxc4,Nxc4,Qg7,Rdh1,d5,Nxe5,Qxe5,exd5,cxd5,Rxh7,Rae8,Rh8+,Qxh8,Rxh8+,Kxh8,Qxa5,Rf5,Qa7,Rfe5,Qd4,Kh7,Kd2,Re2+,Kc3,Rc8+,Kb4', 'Rc4+,Qxc4,dxc4', 'https://lichess.org/training/NgrB6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGROk', 'Blitz', 'JoFa1997', 1603, 'KAtaseven9055', 1513, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Re1,d6,d4,Bg4,c3,O-O,Nbd2,exd4,cxd4,Nxd4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Kh2,Bg5,Rg1,h5,Rxg4,hxg4,Nxd4,Bf4+,Kg2,Qh4,Nf1,Qh3+,Kg1,g6,Bxf4,Kg7,Qd3,Rh8,Qxh3,Rxh3,e5,Rah8,Bd5,R8h5,Bg2,Rd3,Nb3,dxe5,Be3,f5,Bxb7,f4,Bxa7,f3,Rc1,Rd8,Rxc7+,Kf6,Ng3', 'Rd1+,Nf1,Rxf1+,Kxf1,Rh1#', 'https://lichess.org/training/nGROk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGS4I', 'Rapid', 'Samoo1477', 1601, 'Anatol_lucky', 1606, 'e4,e5,Nf3,Nc6,Bc4,Na5,b3,Nxc4,bxc4,Bc5,Bb2,d6,d4,exd4,Bxd4,Bxd4,Qxd4,Nf6,O-O,O-O,Nc3,c5,Qd2,Bg4,Qe3,Re8,h3,Bh5,g4,Bg6,Ng5,h6,Nf3,Nxe4,Nxe4,Bxe4,Qf4,Bxc2,g5,Re4,Qg3,Re6,h4,Rg6,h5,Re6,gxh6,g6,Kh2,Re5,Nxe5,dxe5,hxg6,Bxg6,Qxe5,Qh4+,Kg2,Qg4+,Kh2,Qh4+,Kg2,Qg4+,Qg3,Be4+,f3,Qxg3+,Kxg3,Bg6,f4,Re8,Kg4,Re4,Kg5,Rxc4,f5,Bh7,Rg1,Kf8,Kf6,Rf4,Rg5,Rh4,Rd1,Rxh6+,Ke5', 'f6+,Kf4,fxg5+', 'https://lichess.org/training/nGS4I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NgsJi', 'Rapid', 'Lightning373', 1604, 'enekobill', 1665, 'd4,d5,e3,Nc6,Nf3,e6,c4,Nf6,a3,Be7,b4,O-O,c5,a6,Nbd2,b6,Bb2,Na7,cxb6,cxb6,Rc1,b5,Be2,Bb7,O-O,Nc8,Ne5,Nd6,Nb3,Nc4,Nxc4,dxc4,Nd2,Rc8,Bf3,Bxf3,Nxf3,Ne4,Qc2,Qd5,Ne5,Bf6,f4,Rfe8,Rfd1,c3,Ba1,Rc7,Nd3,Rc4,Nc5,Nxc5,bxc5,a5,Qe2,b4,axb4,axb4,e4', 'Bxd4+,Kh1,Qxc5', 'https://lichess.org/training/NgsJi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NGSWR', 'Blitz', 'korkmaz07', 1645, 'INTERSYSTEMSNEZA', 1652, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e6,Bxc4,Bd7,Nf3,Be7,O-O,O-O,d5,exd5,exd5,Bg4,Qb3,Bxf3,gxf3,b6,Kh1,Nbd7,Bf4,Nc5,Qc2,Bd6,Bxd6,Qxd6,Nb5,Qf4,Be2,Nxd5,Rg1,a6,Rg4,Qe5,Na3,Rae8,Rag1,g6,Bc4,Nf6,Rxg6+,Kh8,R6g3,b5,Rg5,Qe7,Bf1,Ne6,Re5,Nd7', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/NGSWR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NGVFc', 'Rapid', 'Moyogi', 1681, 'tobi1101', 1667, 'e4,e5,Nf3,d6,Bc4,g6,c3,Bg7,d4,Bg4,Be3,Nd7,h3,Bxf3,Qxf3,Qe7,Na3,Nb6,Bb3,a6,Nc4,exd4,cxd4,d5,Nxb6,Qb4+,Bd2,Qxb6,Bxd5,O-O-O,Qxf7,Bxd4,O-O,Nh6,Qf4,Rhf8,Qxh6,Bxf2+,Kh1,Qxb2,Rab1,Qc2,Bxb7+,Kb8,Bxa6+,Ka7,Rxf2', 'Qxb1+,Kh2,Rxf2', 'https://lichess.org/training/NGVFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGVHx', 'Rapid', 'kentt', 1823, 'attagol', 1926, 'e4,a6,Nc3,b5,a3,Bb7,d3,c5,Bf4,e6,Nf3,Nc6,Qd2,Be7,g4,d6,g5,e5,Be3,Nd4,Bxd4,cxd4,Ne2,Qd7,Bg2,h5,Nh4,g6,f4,Qg4,Nxg6,fxg6,Rg1,Qh4+,Kd1,exf4,Nxd4,Bxg5,Ne6,Qg4+,Kc1,Qxe6,Bf3,Bh6,c3,Ne7,Kc2,O-O-O,a4,d5,axb5,axb5,exd5,Bxd5,Bxd5,Nxd5,Ra5,Ne3+,Kb1,Qb6,b4,Nc4,Ra8+,Kb7,Qg2+,Qc6', 'Ra7+,Kxa7,Qxc6', 'https://lichess.org/training/nGVHx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ngvIP', 'Rapid', 'op-po-reno-ace', 1866, 'Dmitrii77', 1792, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nf6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,Bd6,Bxd6,Qxd6,O-O,O-O,c3,Nbd7,Rad1,Rad8,Qe2,Rfe8,Ne5,Qc7,Nxd7,Rxd7,Ne4,Nxe4,Qxe4,Red8,Rfe1,c5,Qe5,Qxe5,Rxe5,cxd4,cxd4,Rxd4,Rxd4,Rxd4,Rb5,Rd7,a4,a6,Ra5,Rd5,Rxd5,exd5,Kf1,f5,Ke2,Kf7,Kd3,Ke6,Kd4,b5,axb5,axb5,b4,Kd6', 'f4,Kc6,Ke5,d4,Kxd4', 'https://lichess.org/training/ngvIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ngVmC', 'Rapid', 'DONI_MF', 1732, 'talal2020', 1682, 'e4,Nc6,d3,d5,Nc3,Nf6,a3,d4,Na4,e5,b4,a6,Nf3,Bg4,Be2,Be7,Bb2,Qd7,h3,Bh5,c3,b5,Nc5,Bxc5,bxc5,O-O,cxd4,Nxd4,Nxd4,Bxe2,Nxe2,Rad8,Bxe5,Qe6,d4,Nxe4,Qd3,Nxc5,Qg3,f6,Nf4,Qc4,Nh5,Nd3+,Kd2,Rf7,Bxf6,g6,Bxd8', 'Rxf2+,Ke3,Qe6+,Qe5,Nxe5', 'https://lichess.org/training/ngVmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGvTl', 'Blitz', 'Adsoargento', 1661, 'June92018', 1656, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Nc6,O-O-O,Qc7,g4,a6,h4,Be6,Nxe6,fxe6,Bh6,b5,Bxg7,Kxg7,h5,gxh5,gxh5,Kh8,Bd3,e5,Nd5,Qa7,Qh6,Ng8,Qg5,Nd4,Rhg1,Rf7,h6,Nxf3', 'Qg7+,Rxg7,hxg7#', 'https://lichess.org/training/nGvTl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ngwbs', 'Classical', 'stromboneski', 1776, 'ghassan312alassaf', 1722, 'd4,d5,c4,e6,Nc3,Nf6,e3,Be7,Nf3,O-O,cxd5,exd5,Bd2,Nc6,a3,a6,Be2,h6,O-O,Bf5,Rc1,Ne4,h3,Nxd2,Nxd2,Bd6,Nxd5,Bxh3,Bf3,Be6,Nc3,Qh4,g3,Bxg3,fxg3,Qxg3+,Bg2,Qxe3+,Rf2,Qxd4,Nf3,Qxd1+,Rxd1,Bg4,Rdd2,Bxf3,Bxf3,Ne5,Bxb7,Rad8,Bxa6', 'Rxd2,Rxd2,Nf3+,Kf2,Nxd2', 'https://lichess.org/training/ngwbs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGWQQ', 'Rapid', 'LelouchLampergoue', 1609, 'vangelisfk', 1622, 'd4,d5,e4,dxe4,Nc3,Nf6,Nh3,h6,Nf4,e6,Be2,Bb4,O-O,Bxc3,bxc3,b6,f3,Bb7,c4,Nc6,d5,exd5,cxd5,Ne5,Bb5+,c6,dxc6,Bxc6,Bxc6+,Nxc6,Qe2,Qd4+,Be3,exf3,gxf3,Qe5,Nd3,Qe7,Rae1,O-O,Nf4,Rfe8,Qc4,Ne5,Qb5,Nfd7,Nd5,Qd6,Bf4,Nxf3+,Rxf3,Rxe1+,Kf2,Qc5+', 'Qxc5,Nxc5,Kxe1', 'https://lichess.org/training/nGWQQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NGwuL', 'Classical', 'I6ix9ineI', 1791, 'stv7379', 1847, 'e4,e5,Nf3,d6,Nc3,Be6,h3,c6,d3,h6,Bd2,Nd7,Be2,f5,O-O,f4,a4,Qf6,a5,O-O-O,b4,g5,Nh2,h5,Bxh5,Be7,Bg4,Nh6,Bxe6,Qxe6,Na4,Rdg8,f3,Nf6,c4,g4,fxg4,Nfxg4,Qe2,Nxh2,Kxh2,Ng4+,Kh1,Rg7,a6,b6,Nc3,Rhg8,Rg1,Bh4,Be1,Bg3,Bxg3,fxg3,Rgf1', 'Nf2+,Rxf2,gxf2', 'https://lichess.org/training/NGwuL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NGxlk', 'Rapid', 'pagadix', 1680, 'djinnome', 1835, 'e4,Nf6,e5,Nd5,c3,d6,Nf3,Bg4,exd6,Qxd6,Be2,g6,d4,Bg7,Nbd2,Nf4,Nc4,Nxg2+,Kf1,Qe6,Kxg2', 'Bh3+,Kg1,Qg4#', 'https://lichess.org/training/NGxlk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NgXPA', 'Rapid', 'ahmad_00000', 1872, 'SonidosEnArmonia', 1861, 'e4,c6,d4,e6,Nf3,d5,e5,Nd7,Nc3,c5,Be3,cxd4,Bxd4,Ne7,Qd2,Nf5,Be2,b6,Bb5,a6,Bc6,Ra7,Bxd7+,Bxd7,O-O,Be7,a3,O-O,Rad1,Qb8,b4,Rc8,Ne2,Rac7,c3,Ba4,Rc1,h6,Ng3,Nxg3,fxg3,Bb5,Rf2,a5,Qf4,axb4,axb4,Bxb4,Rb1,Qa7,cxb4,g5,Qe3,Qa6,h4,Bd3,Rd1,Be4,hxg5,Qa4,Rdf1,h5,Nh4,Qxb4,g6,fxg6,Bxb6,Rg7,Nf3,Rc3,Qd2,Rb3,Qxb4,Rxb4,Be3,Rb3,Bd4,Rd3,Bc5,Rc7,Bd6,Rc4,Ng5,Bf5,Rb1,Rxg3,Rb8+,Kg7,Rb7+,Kh6,Nf7+,Kh7,Nd8+,Kh6,Be7,h4,Nf7+,Kh5,Nd6,Rc1+,Kh2,Re3,Nxf5,gxf5,Bf6,Ree1,Rh7+,Kg6,Rg7+', 'Kh6', 'https://lichess.org/training/NgXPA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGxsw', 'Rapid', 'beginnin', 1800, 'caneruygar', 1754, 'e4,e5,Nf3,d6,Bc4,Nf6,Ng5,h6', 'Nxf7,Qe7,Nxh8', 'https://lichess.org/training/nGxsw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGXvo', 'Blitz', 'JosePinedaPandi', 2286, 'val-2016', 2358, 'd4,d5,c4,Bf5,Nc3,e6,Nf3,Nc6,Bf4,Nf6,e3,Bd6,Bg5,Be7,Bd3,Bxd3,Qxd3,O-O,O-O,h6,Bh4,a6,c5,b5,a3,Rb8,b4,Nd7,Bxe7,Nxe7,e4,dxe4,Nxe4,Nf6,Nxf6+,gxf6,Qe3,Nf5,Qf4,Kg7,Rad1,Qd5,Qxc7,Rb7,Qf4,Rd8,Rfe1,Rbd7,h3,Ne7,Qg4+,Ng6,h4,h5,Qg3,Qf5,c6,Rd5,c7,Rc8,Rc1,Qf4,Rc6,Qxg3,fxg3,Ne7,Rxa6,Rxc7,Re3,Nf5,Rd3,Nxg3,Kf2,Ne4+,Ke3,f5,Ne5,f6,Nf3,Kf7,Ng1,Nd6,Ne2,Nc4+,Kf3,e5,Kf2,e4,Rd1,Rcd7,Ra8,Nb2,Rd2,Nd3+,Ke3,Ne1,Rb8', 'Nxg2+,Kf2,e3+,Kxg2,exd2', 'https://lichess.org/training/nGXvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGy3c', 'Rapid', 'ghjkfdsa', 1633, 'PopeB', 1611, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,d6,d5,Ne5,Nxe5,dxe5,Nc3,Nf6,Ne2,Nxe4', 'Qa4+,b5,Qxe4', 'https://lichess.org/training/nGy3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NGydt', 'Rapid', 'camus133', 1750, 'ABC90', 1772, 'e4,e6,Nf3,c6,Bc4,d5,exd5,cxd5,Bb3,Bd7,d4,Nc6,c3,Nh6,Bf4,Qf6,Bg3,Nf5,O-O,h5,Nbd2,h4,Be5,Nxe5,Nxe5,h3,Nxd7,Kxd7,Ba4+,Kd8,Qb3,hxg2,Rfe1,Bd6', 'Qxb7,Bxh2+,Kxg2,Qg5+,Kf1,Bc7,Qxa8+', 'https://lichess.org/training/NGydt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NgyId', 'Rapid', 'Ule_Boiz', 1671, 'mfb0752', 1742, 'e4,c5,Bc4,e6,a3,Nc6,Nc3,Nf6,d3,d5,exd5,exd5,Ba2,h6,h3,d4,Nce2,Bd6,Nf3,O-O,O-O,Ne5,Nxe5,Bxe5,Re1,Qc7,c3,Re8,cxd4,cxd4,Rf1,b6,f4,Bd6,Nxd4,Nh5,Nb5', 'Qc5+,Kh2,Qxb5', 'https://lichess.org/training/NgyId');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NgYn6', 'Rapid', 'ParetoFrontiersman', 1628, 'hope112111', 1626, 'd4,d5,Bf4,c6,e3,Nd7,Nd2,h6,Bd3,e6,c3,Qf6,Qe2,e5,Bg3,e4,Bc2,Bd6,O-O-O,Ne7,Rf1,O-O,f4,Nf5,Nb3,b6,Bd1,a5,Bf2,Ba6,Qe1,Bxf1,Qxf1,a4,Nd2,b5,Qe1,Nb6,g4,Ne7,h4,Bxf4,exf4,Qxf4,Be3,Qd6,a3,f6,Nh3,Ng6,Rf1,Qh2,Rh1,Qd6,Qf1,Nxh4,Bf4,Qe6,Bxh6,gxh6', 'Nf4,Qd6,Rxh4', 'https://lichess.org/training/NgYn6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ngz27', 'Rapid', 'Rafus3353', 1826, 'aidynnur', 1689, 'c4,Nf6,Nc3,g6,Nf3,Bg7,g3,c5,Bg2,d6,d3,Nc6,Qa4,O-O,O-O,Bg4,Qb3,Qd7,Na4,Bxf3,Bxf3,Nd4,Qd1,Nxf3+,exf3,b5,Nc3,bxc4,dxc4,Rfb8,Rb1,Qf5,Bd2,Rb4,Ne4,Rxc4,Re1,Rd4,Qc2,d5,Nxf6+,Qxf6,Bc3,Qxf3,Bxd4,Bxd4,Qe2,Qf6,Qxe7', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/ngz27');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nGzi7', 'Blitz', 'IM samisahi', 2676, 'kintoho', 2513, 'd4,g6,Nf3,Bg7,e4,c6,Nc3,d5,Bf4,Nf6,Bd3,dxe4,Nxe4,Nxe4,Bxe4,Bf5,Bxf5,Qa5+,Qd2,Qxf5,Be5,O-O,Bxg7,Kxg7,O-O,Nd7,Rfe1,e6,c4,Rfd8,Rad1,Qf6,h3,a5,b3,a4,Qb4,axb3,axb3,b6,Qd6,c5,dxc5,bxc5,Qc6,Rac8,Qb7,Rb8,Qc7,Rbc8,Qd6,Nb8,Qe5,Qxe5,Nxe5,Rxd1,Rxd1,Nc6,Nxc6,Rxc6,f3,Ra6,Rd8,Ra3,Rc8,Rxb3,Rxc5,Rc3,Rc8,Rc2,c5,Kf6,c6,h5,c7,Ke7,Kh2,f6,Rg8,Rxc7,Rxg6,Rc5,Rg7+,Kd6,Kg3,Rg5+', 'Rxg5,fxg5,h4,gxh4+,Kxh4', 'https://lichess.org/training/nGzi7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ngziZ', 'Blitz', 'FM DrBoki', 2389, 'Fresolopeyi', 2344, 'd4,c5,d5,e5,c4,d6,e4,Nd7,Nc3,Be7,Nf3,a6,a4,Ngf6,Bd3,h5,h3,Nf8,Be3,h4,Qd2,Ng6,a5,Bd7,O-O,Nh5,Rfb1,Nhf4,Bf1,f5,b4,fxe4,Nxe4,Bf5,Bd3,Nxd3,Qxd3,O-O,bxc5,dxc5,Rxb7,Nf4,Bxf4,exf4,d6,Rf7,Qd5,Bxe4,Qxe4,Bxd6,Qd5,Bc7,Rxc7', 'Qxd5,cxd5,Rxc7', 'https://lichess.org/training/ngziZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nh0s2', 'Rapid', 'pqdungnb2005', 1726, 'GuilhermeAlves', 1705, 'd4,e6,c4,c5,Nf3,Nf6,dxc5,Bxc5,Bg5,Nc6,Nc3,Bb4,Qc2,a6,a3,Ba5,b4,Bb6,e3,h6,Bxf6,Qxf6,Bd3,Bc7,O-O,Be5,Nxe5,Nxe5,Ne4,Qd8,Nd6+,Kf8,c5,Kg8,Qc3,Qf6,Rad1', 'Nf3+,gxf3,Qxc3', 'https://lichess.org/training/Nh0s2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nH1fp', 'Rapid', 'gemuesekinder', 2177, 'rick_morty89', 2269, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,d3,d6,f4,e6,Nf3,Nge7,O-O,O-O,Be3,Rb8,d4,cxd4,Nxd4,Nxd4,Bxd4,Bxd4+,Qxd4,Nc6,Qf2,Qa5,Rad1,Rd8,Rd2,b5,f5,exf5,exf5,Ne5,fxg6,hxg6,Nd5,Be6,Re2,Bxd5,Bxd5,Qb6,Re3,Rd7,Re4,Qxf2+,Rxf2,Rc8,Rd4,Kg7,Kg2,Rdc7,c3,a5,Bb3,Rc6,Rfd2,Rd8,Bd5,Rc5,Bb3,Rc6,Rd5,Rb6', 'Rxe5,dxe5,Rxd8', 'https://lichess.org/training/nH1fp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nh1jF', 'Rapid', 'alirezabibak97', 1844, 'fidz', 1684, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Bd6,O-O,Nf6,d4,Bg4,Be3,O-O,dxe5,Bxf3,Qxf3,Bxe5,Bg5,Qd6,g3,h6,Bxf6,Bxf6,Rad1,Qe5,Rfe1,h5,Qf4,Qxf4,gxf4,Bxc3,bxc3,b5,Rd7,Ra7,Red1,g6,Re7,f5,e5,a5,Rdd7,Rfa8,Rg7+,Kh8,Rxg6,Rg8,Rxg8+,Kxg8,Kg2,Kf8,Kh3,Ra8,Rxc7,Rd8,Rxc6,Rd2,Kg3,Rxc2,h4,Rxa2,Rf6+,Ke7,Rxf5,a4,Rxh5,Ra3,Rh7+,Ke6,Rc7,b4,Rc6+,Kd7,Rd6+,Ke7,f5,Rxc3+,Kg4,b3,Re6+,Kf7,Rf6+,Ke7,Rb6,a3,f6+,Kf7,f4,a2,Rb7+,Kf8,e6,a1=Q', 'Rb8+,Rc8,Rxc8#', 'https://lichess.org/training/Nh1jF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nh1RQ', 'Blitz', 'malistrip', 1675, 'DAPappas', 1709, 'e4,d5,exd5,Qxd5,Nc3,Qd7,Nf3,Nf6,d4,b6,Be3,Bb7,Bd3,Bc6,Ne5,Bb7,Nxd7,Nfxd7,O-O,Nc6,Be4,O-O-O,Bxc6,Bxc6,a4,e5,dxe5,Nxe5,Qe2,Bb4,Nd1,Rhe8,c3,Bd6,Qa6+,Bb7,Qxa7,Re6,a5,Nf3+,gxf3', 'Rg6+,Bg5,Rxg5+,Kh1,Bxf3#', 'https://lichess.org/training/Nh1RQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NH3Ou', 'Classical', 'CLSmith15', 1873, 'Eni_Oro', 1794, 'd4,d5,c4,c6,Nf3,dxc4,e4,Bg4,Bxc4,e6,Be3,Bb4+,Nc3,Ne7,Be2,O-O,Qb3,Bxc3+,bxc3,Bxf3,Bxf3,b5,a4,a6,axb5,cxb5,O-O,Nbc6,Be2,Na5,Qa2,Nc4,Bxc4,bxc4,Qxc4,Rc8,Qd3,a5,f4,f5,e5,Nd5,Bd2,Rf7,Rf3,h5,Qa6,Nc7,Qxa5', 'Ra8,Qxa8,Nxa8', 'https://lichess.org/training/NH3Ou');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NH7zQ', 'Rapid', 'gudauri', 1711, 'Poula96', 1797, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,d3,d5,exd5,Nxd5,O-O,Bg4,h3,Bh5,Nbd2,Nf4,Ne4,Qd7,Bxf4,exf4,Re1,O-O-O,b4,Ne5', 'Nxe5,Bxd1,Nxd7', 'https://lichess.org/training/NH7zQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nH8rJ', 'Rapid', 'CarlosMagnussen', 1705, 'fission123', 1620, 'e4,g6,Nf3,Bg7,d4,d6,Nc3,Nf6,Bd2,O-O,Bd3,c6,Bg5,Bg4,Be2,Bxf3,Bxf3,Qb6,Na4,Qc7,O-O,b5,Nc3,a5,a3,Na6,Re1,e5,d5,c5,Nxb5,Qb6,c4,Nc7,a4,Rad8,b3,Rd7,Qd2,Re8,Bd1,Na6,Rb1,Nb4,f4,exf4,Qxf4', 'Nd3,Qf1,Nxe1', 'https://lichess.org/training/nH8rJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nHboJ', 'Rapid', 'loda3', 1813, 'raulinho83', 1773, 'd4,d5,Nf3,h6,g3,Nf6,Bg2,b6,O-O,Bb7,c3,e6,Bf4,Bd6,Bxd6,Qxd6,c4,O-O,cxd5,Qxd5,Nc3,Qd6,Nb5,Qe7,Rc1,c6,Nc3,Nbd7,Ne5,Nxe5,dxe5,Nd5,Nxd5,cxd5,e3,Rac8,Qa4,a6,Qd4,b5,Qa7,Ra8,Qb6,Rac8,Qa7,Ra8,Qb6,Rac8,Rfd1,Qd8,Qxb7,Rxc1,Rxc1,Qa5,a3,Qd2,Qc6,Qxb2,Rc2,Qxa3,h4,b4,Rc1,b3,Qc3,a5,Bf1,a4,Bb5,Rb8,Ra1,Qa2,Bxa4', 'b2,Rxa2,b1=Q+,Kg2,Qxa2', 'https://lichess.org/training/nHboJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NhBUg', 'Classical', 'THANEESH', 1740, 'Zhdan-Valery', 1770, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Qf6,Bxd5+,Be6,Bxe6+,Kxe6,Qb3+,Kd7,Qxb7,Rb8,Qa6,Bc5,O-O,Rb6,Qd3+,Kc8,Nc3,Rf8,Nd5,Bxf2+,Kh1,Qd6,Nxb6+,axb6,Qxd6,cxd6,d3,Nd4,b3,Ne2,Be3', 'Ng3+,Kh2,Nxf1+,Rxf1,Bg3+,Kxg3,Rxf1', 'https://lichess.org/training/NhBUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NHbYu', 'Rapid', 'Al-Lalan', 1851, 'nakar123', 1759, 'e4,e5,f4,exf4,Nf3,g5,Bc4,b6,Bxf7+,Kxf7,Ne5+,Kg7,d4,Ba6,Bxf4,d6,Qg4,dxe5,Bxe5+,Kh6,Qe6+,Kh5,Bxh8,Qe7,Qh3+,Kg6,Be5,Nc6,Qf5+,Kh5,g4+,Kh6,h4,Nxe5', 'hxg5+,Kg7,Qxh7#', 'https://lichess.org/training/NHbYu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NHC3h', 'Rapid', 'Solace97', 1894, 'Marlov', 1888, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f4,b5,Bd3,Qb6,Be3,g6,Qd2,Qc7,O-O,Bg7,f5,O-O,Bh6,Qb6,Bxg7', 'Qxd4+,Kh1,Kxg7', 'https://lichess.org/training/NHC3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nhCTO', 'Rapid', 'dimochka_tsoi', 2315, 'IM DrMelekess', 2339, 'f4,d5,Nf3,Nf6,e3,c6,d4,Bf5,Bd3,e6,O-O,Nbd7,Qe2,Be7,Nbd2,Qc7,Ne5,h5,c3,Ne4,Nxe4,Bxe4,Bxe4,dxe4,Bd2,Nf6,c4,c5,Bc3,cxd4,exd4,Rd8,Rad1,O-O,h3,Qb6,g4,hxg4,hxg4,Qa6,g5,Nd7,b3,Nxe5,fxe5,Bxg5,Rf2,e3,Rg2,Bh6,Qh5,Kh7,Rf1,Qc6,Rf4,e2,Rfg4,Rg8,Qxf7,Rdf8,Qg6+,Kh8,Kh2,Qf3,Rh4,Qe3,d5,Rf2', 'Rxh6+,Qxh6+,Qxh6+,gxh6,Rxf2', 'https://lichess.org/training/nhCTO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NHdG8', 'Rapid', 'tupacamaru360', 1689, 'scottrenz', 1670, 'a4,e5,d4,exd4,Qxd4,Nc6,Qd3,Nb4,Qd1,d6,Bf4,Bf5,Na3,g5,Bg3,h5,h3,Bg7,c3,Na6,e3,Nc5,Nb1,h4,Bh2,Bxb1,Rxb1,Qe7,Nf3,O-O-O,Be2,Nh6,O-O,Be5,Nxe5,dxe5,Qc2,f5,f4,e4,fxg5,Qxg5,Bf4,Qf6,b4,Nd3,Rbd1,Nxf4,Rxd8+,Rxd8,Rxf4,Qd6,Rxh4,Nf7,a5,Qd2,Qb3,Qxe3+,Kh2,Nd6,Bh5,Qg5,Qe6+,Kb8,Rxe4,fxe4,Qd5,Qf4+,Kg1,e3,a6,Qf2+,Kh2,c6,Qg5,Rf8,Qe7,Qf4+,Kg1,Ne4', 'Qxb7#', 'https://lichess.org/training/NHdG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NhG4c', 'Blitz', 'El-Fripouille', 1921, 'Mukhtar_Shahab-2022', 1899, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d3,Bc5,O-O,Na5,Nxe5,d6,Nxf7,Qe7,Nxh8,Nxc4,dxc4,Bg4,Qd3,O-O-O,Bg5,Rxh8,Nc3,h6,Nd5,Qf7,Nxf6,gxf6,Be3,Qh5,Bxc5,Be2,Qh3+,Qxh3,gxh3', 'Rg8+,Kh1,Bf3#', 'https://lichess.org/training/NhG4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nhGg8', 'Rapid', 'CXZ18', 1825, 'kinterberg', 1802, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,f3,Be7,Qd2,b5,O-O-O,Bd7,h4,O-O,g4,b4,Nb1,e5,Nb3,Ne8,g5,a5,h5,f6,g6,h6,Bxh6,a4,Bxg7,Kxg7,Qg2,axb3,h6+,Kg8,h7+,Kh8,Bc4,bxa2,g7+,Nxg7,Bxa2,Rxa2,Rdg1,Ne6', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/nhGg8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NHi0M', 'Rapid', 'Abcmohamad', 1962, 'bookieboekie', 1883, 'd4,c6,e3,d5,c4,Nf6,h3,Bf5,Nf3,e6,Nh4,Bxb1,Rxb1,Bb4+,Bd2,Bxd2+,Qxd2,Ne4,Qb4,Qxh4,g3,Qe7,Qb3,Qf6,Qc2,O-O,Bg2,Nd7,Bxe4,dxe4,Qxe4,Qe7,O-O,Nf6,Qf4,c5,Rfd1,cxd4,exd4,Rac8,Rbc1,Qb4,b3,Rfd8,Qf3,b6,a4,Qa3,Qe3,h6,g4,Nh7,Rc3,Qb4,Rcd3,Ng5,f4,Nh7,g5,hxg5,fxg5,Nf8,h4,Ng6,h5,Ne7,Qe5,Qd6,Kf2,Qxe5,dxe5,Rxd3,Rxd3,Rc5,Rd7,Nc6,g6,fxg6,hxg6,Rxe5,Rc7,Rf5+,Ke3,Na5,Rc8+,Rf8,Rc7,Ra8,b4,Nb3,c5,bxc5,bxc5,Kf8,c6,Nc5,Rf7+,Ke8,Rxg7,Kf8,Rf7+,Kg8,Kd4,Nxa4,Ke5,Rf8,Rxa7,Nb6,Rb7,Nc8,Kxe6,Re8+,Kd7,Rf8,c7,Kg7,Rb1,Kxg6', 'Rb8,Kg7,Rxc8', 'https://lichess.org/training/NHi0M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nhj1p', 'Blitz', 'shaunton', 1975, 'Tobyes', 1845, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qd2,dxc6,Bd3,Be6,O-O,O-O-O,Qe2,h6,Nc3,Kb8,Na4,Bd6,Be3,g5,b3,Qg7,c3,Be5,Rac1,Ne7,c4,f5,exf5,Bxf5,Bxf5,Nxf5,Nc5,Nxe3,fxe3,Rhe8,e4,Bd4+,Kh1,Bxc5,Rb1,a6,b4,Ba7,b5,cxb5,cxb5,axb5,Qxb5,Bb6,a4,Qe5,Qb3,Qxe4,a5,Bxa5,Ra1,Bb6,Qa3,c6,Qa8+,Kc7,Qa3,Rd2,Qg3+,Qe5,Qh3,Rd6,Rab1,h5,Rf7+,Rd7', 'Qxd7+,Kb8,Qxb7#', 'https://lichess.org/training/nhj1p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NHKlR', 'Rapid', 'wowaputin', 1852, 'patzer3', 2143, 'e4,e5,f4,d5,exd5,e4,Nc3,Nf6,d3,exd3,Bxd3,Bg4,Nf3,Be7,h3,Bxf3,Qxf3,O-O,Bd2,Bc5,O-O-O,c6,g4,cxd5,g5,Ne4,Nxe4,dxe4,Bxe4,Nc6,f5,Qb6,Qh5,Rfe8,Bd3,Nb4,Bc4,g6,fxg6,Qxg6,Qxg6+,hxg6,h4,Be3,Bxe3,Rxe3,Rd7,Rf3,Rxb7,a5,Bd5,Rf2,Bc4', 'Rxc2+,Kb1,Rxc4', 'https://lichess.org/training/NHKlR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nHm8v', 'Rapid', 'xxkuronekoxx', 1750, 'vaibhav_chess_lover', 1773, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,Ng4,O-O,Nxf2,Rxf2,Bxf2+,Kxf2,d6,Be3,Qe7,Nd5,Qd8,c3,h6,Qa4,Bd7,Bb5,O-O,Rf1', 'a6,Bc4,b5,Qd1,bxc4', 'https://lichess.org/training/nHm8v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NhMZq', 'Rapid', 'worchun', 1939, 'alesvondra', 1930, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,b6,Nf3,Bb7,Qc2,O-O,Bg5,d5,e3,Nbd7,Be2,c5,O-O,Qc8,Ne5,Ne4,Bf4,f5,cxd5,Bxd5,c4,Bb7,d5,exd5,cxd5,Bxd5,Rfd1,Ndf6,f3,Nd6,Rxd5,Nxd5,Bc4,Nxc4,Qxc4,Qe6,Bg3,Nc7,Qh4,Ne8,Rd1,Nf6,Nc4,Rad8,Nd6,Qxe3+,Bf2,Qb3,Rd2,Qb1+,Be1,Rde8,Qc4+,Kh8,Nxe8,Rxe8,Re2,Rxe2,Qxe2,h6,Kf2,Qb3,Qe5,Qc2+,Kf1,Qc4+,Kf2,Qd4+,Qxd4,cxd4,Ke2,Nd5,Kd3,Ne3,g3,Ng2,Bd2,g5,Kxd4,f4,g4,Kg7,Kd5,Kf6,Kc6,Ke5,Kb7,Ne3,Kxa7,Nd5,Kb7,Kd4,Kc6,Ne3,Kxb6,Nc2,a4,Kd3,Bc1,Nb4,a5,Ke2,a6', 'Nxa6,Kxa6,Kxf3', 'https://lichess.org/training/NhMZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nhN6r', 'Rapid', 'Teketek1', 1921, 'Francis_capa', 1830, 'e4,e5,c3,Nf6,f3,d5,exd5,Qxd5,Ne2,Bc5,d4,exd4,Nxd4,O-O,Be2,Nc6,Be3,Re8,Bf2,Qe5,Na3,Be6,O-O,Rad8,Bg3,Qe3+,Bf2,Qh6,Nac2,Bd6,Bg3,Bxg3,hxg3,Qg6,Qe1,Bc4,Qf2,Bxe2,Nxe2,Rd2,Ne3,Nd5,Nxd5,Rexe2,Rae1,Qc2,Rxe2,Rxe2,Re1,Rxe1+,Qxe1,h6,Qf2', 'Qd1+,Kh2,Qxd5', 'https://lichess.org/training/nhN6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NhnQs', 'Rapid', 'Rafter123', 2007, 'QuasiUnaFantasia', 2074, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,d5,Ne5,bxc3,Nxc4,Qd4,O-O,Qxe4,Nd6,Qg4,f5,Qh5,Qf6,Re1,b6,Ne5,Ne4,f4,d6,Nf3,Bb7,Ng5,Nxg5,fxg5,Qxc3,Bf4,Qc5+,Kh1,Qxd5,Qh3,Rae8,Rxe8,Rxe8,g6,hxg6,Qg3,Kf7,h4,Re4,Rc1,Rxf4,Rxc7+,Kf6', 'Qg5+,Ke5,Re7+,Kd4,Qxf4+', 'https://lichess.org/training/NhnQs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NHp8z', 'Blitz', 'DARCUAMIM', 2048, 'kramnikmaster', 2232, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Nc6,O-O,Bg4,c3,Nge7,Re1,Qd7,Bg5,f6,Bh4,O-O-O,Nbd2,h5,a4,g5,Bg3,Bxg3,fxg3,h4,gxh4,Bxf3,Nxf3,g4,Nd2,Rxh4,Qe2,Rdh8,Nf1,Nf5,Qe6,Qxe6,Rxe6,Nd6,Rxf6,g3,h3,Rg8,Re1,Na5,Re5,Nac4,Rxd5,Nxb2,Bc2,Ne4,Rf7,Nxc3,Rc5,Ne2+,Kh1,Rxh3+,gxh3', 'g2+,Kh2,g1=Q#', 'https://lichess.org/training/NHp8z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nHPgi', 'Classical', 'SARATHKRISHNAN2007', 1819, 'Pentjing', 1729, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Bf6,Nf3,Ne5,Nxe5,Bxe5,Qh5,Qf6,O-O,Qg6,Qxe5+,Kd8,Qf4,Ne7,Bxf7,Qf6,Qxf6,gxf6,Nc3,d6,Be3,Rf8,Bb3,f5,exf5,Nxf5,Rae1,b6,Ba4,Bb7,Bg5+,Kc8,Nb5,Rg8,f4,h6,Nc3,hxg5,fxg5,Nh4,Re8+,Rxe8,Bxe8,Bxg2,Rf8,Kb7,Rh8,Ng6,Rh6,Rxe8,Rxg6,Be4,Nxe4,Rxe4,Rf6,Rg4+,Kf2,Rxg5,h4,Rh5,Kg3,Kc6,Kg4,Rh8,h5,Kd5,Kg5,Ke5,h6,d5,Kg6', 'Rxh6+,Kxh6,Kxf6', 'https://lichess.org/training/nHPgi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nhPiT', 'Rapid', 'cyret', 1847, 'Dantist111', 1920, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,d3,O-O,Bg5,h6,Bh4,d6,h3,Ne7,Bxf6,gxf6,d4,Bb6,Nc3,Kg7,Qd3,Ng6,Nd5,c6,Nxb6,Qxb6,dxe5,dxe5,Nh2,h5,Qg3,c5,c3,c4,Bc2,Rg8,Qf3,Nf4,Rfd1,Kf8,Kf1,Bxh3,gxh3,Rg2,Qxg2,Nxg2,Kxg2,Kg7,Rd5,Rd8,Rad1,Rxd5,Rxd5,Qe6,Nf3,Qc6,Nh4,a5,Nf5+,Kh7,Bd1,b4,cxb4,axb4,f3,c3,bxc3,Qxc3,Rd7,Qb2+,Kg3,Qxa2,Kh4,Qc4,Nd6,Qc6,Rxf7+,Kg6,f4,Qxd6,Bxh5+,Kh6,f5,Qd2,Rxf6+,Kg7,Rf7+,Kg8,Rb7,Qc3,f6,Qe1+,Kg5,Qe3+,Kf5,Qf4+,Ke6,b3,Rg7+,Kh8,Kf7,b2', 'Rg8+,Kh7,Bg6+,Kh6,Rh8+,Kg5,Rh5#', 'https://lichess.org/training/nhPiT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nHpmN', 'Blitz', 'ViToSoAn', 2241, 'NM good_knight_kisses', 2388, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Nf3,e5,O-O,Nc6,d5,Ne7,b4,a5,bxa5,c5,dxc6,bxc6,Ba3,c5,Nb5,Ra6,Qd3,Bb7,Nd2,Qxa5,Rfe1,Rd8,Bf1,Nc6,Nb3,Qb6,Rad1,Nd4,N3xd4,exd4,e5,dxe5,Rxe5,Nd7,Re7,Bf6,Re2,Ne5,Qg3,Nxc4,Re8+,Rxe8,Bxc4,Kg7,Nc7,Rxa3,Nxe8+,Kf8,Qxa3,Kxe8,Re1+,Kf8,Qg3,Qb4,Qb8+,Kg7,Rc1,Bg5,f4,Qd2,Qe5+,f6,Qe1', 'Qxg2#', 'https://lichess.org/training/nHpmN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nHPog', 'Rapid', 'Arab_Eng_Translator', 2052, 'belut62', 2131, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,O-O,Be7,Be3,Nbd7,f4,b5,Nc6,Qc7,Nxe7,Kxe7,f5,b4,Ne2,Bb7,fxe6,fxe6,Bg5', 'Qc5+,Kh1,Qxg5', 'https://lichess.org/training/nHPog');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NHQez', 'Rapid', 'indro4378', 1952, 'nulozechecs', 1979, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,Be2,Nge7,d4,Nf5,O-O,cxd4,cxd4,Qb6,Nc3,Nfxd4,Nxd4,Qxd4,Nb5,Qxe5,f4,Qb8,f5,Bc5+,Kh1,O-O,f6,g6,Qd2,Kh8,Qh6,Rg8,Rf3,Bf8,Qh4,e5,Bh6,Bf5,Nc3,Qd6,Raf1,Nd4,Bg5,Nxf3,Bxf3,e4,Bg4,Bxg4,Qxg4,Qc5,Qh4,Re8,Ne2,d4,Rf4,d3', 'Qxh7+,Kxh7,Rh4+,Bh6,Rxh6#', 'https://lichess.org/training/NHQez');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nhqg4', 'Rapid', 'Ams90', 1728, 'Brahim888', 1698, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,Nxe4,Qf3,Nf6,Bg5,d6,Bxf6,gxf6,Nc3,fxe5,Nd5,Qd7,Nf6+,Ke7,Nxd7,Bxd7,Bc4,Be6,Bxe6,Kxe6,Qb3+,Kd7,Qxb7,Nc6,Qxa8,Nxd4,O-O-O', 'Bh6+,Kb1,Rxa8', 'https://lichess.org/training/Nhqg4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NhqRF', 'Rapid', 'KHALED-THINKING', 2147, 'Rojequiha', 1968, 'e4,Nf6,e5,Nd5,Bc4,e6,a3,Nc6,Nf3,Nb6,Bb5,a6,Bxc6,dxc6,Nc3,Bc5,Ne4,Be7,d4,O-O,h4,f5,Neg5,Nd5,Nxh7,Kxh7,Ng5+,Bxg5,hxg5+,Kg8,g6,Re8,Rh8+,Kxh8,Qh5+,Kg8,Qh7+,Kf8,Qh8+,Ke7', 'Qxg7#', 'https://lichess.org/training/NhqRF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NhQzf', 'Classical', 'srini_vasv', 1684, 'cocotte', 1655, 'e4,c5,Bc4,d6,Nc3,e6,Nf3,Nc6,O-O,Be7,Bb5,Nf6,Bxc6+,bxc6,d4,cxd4,Nxd4,Bb7,b4,O-O,Bg5,Nd7,Bxe7,Qxe7,f3,e5,Nf5,Qe6,Nxd6,Ba6,Rf2,Nb6,Nf5,Rae8,a4,Rd8,Qc1,Qc4,b5,cxb5,axb5,Bxb5,Nxb5,Qxb5,Rxa7,g6,Qg5', 'Rd1+,Rf1,Qxf1#', 'https://lichess.org/training/NhQzf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nhR9H', 'Rapid', 'flipform2', 1627, 'Andri02041997', 1673, 'b3,d5,Bb2,c5,e3,Nc6,Bb5,a6,Bxc6+,bxc6,Nf3,Bf5,Nc3,e6,d4,cxd4,Nxd4,Rc8,Nxf5,exf5,a4,Bb4,Qd2,Nf6,Ba3', 'Ne4,Nxe4,Bxd2+', 'https://lichess.org/training/nhR9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nHrkq', 'Rapid', 'tuplicano', 1635, 'LedaUA', 1613, 'd4,g6,c4,Bg7,Nf3,Nc6,Nc3,e5,d5,Nb4,a3,Na6,e4,d6,b4,Bg4,Be2,Nf6,h3,Bd7,Be3,b6,c5,Nb8,c6,Bc8,O-O,Nh5,Qd2,f5,Ng5,f4,Bxh5,gxh5,Qe2,Qxg5,Bd2,Bxh3,Qf3,Bg4,Qd3,f3,Bxg5,fxg2,Kxg2,Rg8,Bh4,Bf8,Rg1,Be2+,Kh1', 'Rxg1+,Kxg1,Bxd3', 'https://lichess.org/training/nHrkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nHt1Y', 'Rapid', 'Ale9283', 1846, 'Ganesh_Virufan', 1830, 'd4,d5,Bf4,Nf6,e3,Bf5,Nd2,Nc6,c3,e6,Ngf3,Be7,Nh4,Bg6,Nxg6,hxg6,Bg5,Qd7,Bb5,O-O-O,Nf3,a6,Bxc6,Qxc6,Ne5,Qe8,Qd3,Ne4,Bxe7,Qxe7,f3,f6', 'Nxg6,Qe8,Nxh8', 'https://lichess.org/training/nHt1Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NHt85', 'Rapid', 'Barn-ney', 1668, 'Anatolaa', 1686, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,g6,Nf3,Bg7,Ne5,Nc6,Qa4,Bd7,Qb3', 'Nxd4,Qd1,Bxe5', 'https://lichess.org/training/NHt85');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nhtYC', 'Rapid', 'miltonmp', 1838, 'olatoks', 1712, 'd4,Nf6,c4,d5,e3,e6,a3,Be7,Nc3,O-O,Nf3,Re8,Qb3,c6,Qc2,Bd6,c5,Bc7,b4,a6,Bb2,e5,dxe5,Bxe5,Nxe5,Rxe5,Na4,Bf5,Bd3,Bxd3,Qxd3,Nbd7,Bxe5,Nxe5,Qf5,Nfg4,h3,g6,Qc2,Qh4,O-O,Re8,hxg4,Nxg4,Rfe1,Qh2+,Kf1,Re6,Rad1,Rf6,f4,Qg3,Qe2,h5,Qf3', 'Nh2+,Ke2,Nxf3', 'https://lichess.org/training/nhtYC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NHtYm', 'Blitz', 'OldBadplayer', 1685, 'Pajdone', 1699, 'e4,c5,b4,cxb4,Nf3,Nc6,d4,d5,e5,Bg4,Bb2,e6,h3,Bxf3,Qxf3,Nge7,Bd3,Ng6,a3,bxa3,Nxa3,Qb6,Bc1,Qxd4,O-O,Ncxe5,Qg3,Qxa1,Nb5,Nxd3,Qxd3,Rc8,Ba3,Qf6,Bxf8,Nxf8,Nd6+,Kd8,Nxc8,Kxc8,Qa3,Kb8,Qd6+,Ka8,Qc7,Ng6,Rb1,Rb8,Ra1,Qe7', 'Rxa7+,Kxa7,Qa5#', 'https://lichess.org/training/NHtYm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nHVmB', 'Rapid', 'Oliullah', 1758, 'BabaBisleri', 1782, 'd4,Nf6,Bf4,d5,e3,c5,Bxb8,Rxb8,Bb5+,Bd7,Bxd7+,Nxd7,c3,cxd4,cxd4,e6,Nf3,Qa5+,Nbd2,Bb4,O-O,O-O,Nb3,Qc7,h3,Rfe8,a3,Bd6,Rb1,e5,dxe5,Nxe5,Nxe5,Bxe5,Qxd5,Rbd8,Qf3,Re6,Rfd1,Rxd1+,Qxd1,Rg6,Qd3,h6,Rc1,Qe7,Rc8+,Kh7,Qb1,Qe6,Qc2,Qxh3', 'Qxg6+,Kxg6,gxh3', 'https://lichess.org/training/nHVmB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nhX83', 'Blitz', 'attalone', 1791, 'SilentLikeSpirit', 1788, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,c5,Bg5,Be7,e3,a6,cxd5,exd5,Bd3,Nc6,O-O,cxd4,exd4,Be6,a3,h5,Re1,Qd7,Rc1,O-O-O,Qb3,h4,h3,Bxh3,Ne5,Nxd4,Nxd5+,Kb8,Nxd7+,Rxd7,Qc4,Be6,Qxd4,Rxd5,Qf4+,Bd6,Qd2,h3,g3,h2+,Kh1,Rd4,Be3', 'Bd5+,f3,Bxf3+,Qg2,Bxg2+', 'https://lichess.org/training/nhX83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nHxJo', 'Rapid', 'whitepawn100', 2189, 'delochess777', 2028, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Bf5,Be2,dxe5,Nxe5,f6,Nf3,e6,O-O,c5,c3,Nc6,Re1,cxd4,Nxd4,Nxd4,cxd4,Kf7,Nc3,Rc8,Qb3,Bb4,Bd2,a5,a3,Bxc3,bxc3,Qb6,Bb5,Rhd8,c4,Nc7', 'Be8+,Nxe8,Qxb6', 'https://lichess.org/training/nHxJo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nhXpW', 'Blitz', 'Lobito_Chess', 1734, 'kobrasss', 1728, 'e4,e6,Nf3,d5,e5,c5,c4,d4,Bd3,Nc6,O-O,Be7,a3,g5,h3,h5,Be4,Bd7,d3,g4,hxg4,hxg4,Bxc6,Bxc6,Nh2,Qc7,Bf4,Rh4,g3,Rxh2,Kxh2,O-O-O,Nd2,f5,exf6,Nxf6,Bxc7', 'Rh8+,Kg1,Rh1#', 'https://lichess.org/training/nhXpW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NHXRp', 'Classical', 'kokomaung', 1900, 'omii123', 1771, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,d3,d4,Bc4,h6,Nbd2,Nge7,Ne4,Nf5,O-O,Be7,Bd2,O-O,Qe2,Qc7,a3,f6,exf6,Bxf6,Nxc5,Rfe8,Ne4,Na5,Nxf6+,gxf6,g4,Nd6,Bxa5,Qxa5,Nxd4,Nxc4,dxc4,Qb6,Qd3,e5,Qg6+,Kh8,Qxh6+,Kg8,fxe5,Qxd4+,Rf2,Qxg4+,Kf1,Qh3+', 'Rg2+,Qxg2+,Kxg2', 'https://lichess.org/training/NHXRp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nhXvV', 'Rapid', 'mtugra2009', 1642, 'savos12', 1652, 'd4,d6,Bf4,Nf6,e3,Nbd7,Nf3,c6,h3,e5,dxe5,dxe5,Nxe5,Nxe5,Qxd8+,Kxd8,Bxe5,Be7,Nd2,Be6,O-O-O,Ke8,b3,Rd8,Bd3,Rg8,Bxf6,Bxf6,Bxh7,Rh8,Bd3,Ke7,Ne4,Be5,Nc5,Bc8,f4,Bd6,Ne4,Ba3+,Kb1,f6,c3,Bf5,b4,a5,bxa5', 'Rxd3,Rxd3,Bxe4', 'https://lichess.org/training/nhXvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nhYBz', 'Rapid', 'ATCWannabeme', 2433, 'maklis', 2260, 'e4,c5,Nc3,Nc6,Bb5,d6,Bxc6+,bxc6,f4,d5,d3,Nf6,Qe2,Bg4,Nf3,e6,O-O,Rb8,b3,Be7,h3,Bxf3,Qxf3,O-O,Na4,dxe4,dxe4,Qd4+,Be3,Qxe4,Nxc5,Qxf3,Rxf3,Rfd8,c4,a5,Kf2', 'Bxc5,Bxc5,Ne4+', 'https://lichess.org/training/nhYBz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NHyXC', 'Rapid', 'davor0', 1853, 'tony_car', 1849, 'e4,e5,f4,d6,Nf3,Qe7,Bc4,Be6,Bb3,Bxb3,axb3,f6,O-O,Qd7,d4,Nc6,d5,Nb4,c3,Na6,b4,c6,fxe5,dxe5,Nxe5,fxe5,Qh5+,Kd8,Rxf8+,Kc7,Qxe5+,Kb6,Rxa8,Nf6,dxc6', 'Qd1+,Kf2,Ng4+,Kg3,Nxe5', 'https://lichess.org/training/NHyXC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ni0xF', 'Classical', 'k100pile', 2150, 'Tsukuyominfinito', 2023, 'd4,e6,c4,d5,Nf3,c5,cxd5,exd5,dxc5,Bxc5,g3,Nc6,Bg2,Nge7,Nc3,O-O,O-O,h6,b3,Be6,Bb2,Rb8,Rc1,Bd6,Nd4,Be5,Na4,Nxd4,Bxd4,Bxd4,Qxd4,b6,Rfd1,Qd6,e4,Bg4,f3,Bd7,exd5,Nf5,Qd3,Rfe8,Re1,b5,Nc5', 'Rxe1+,Rxe1,Qxc5+', 'https://lichess.org/training/ni0xF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ni1H4', 'Rapid', 'tibping', 1766, 'Marvin033248', 1764, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e4,d6,Bd3,c6,h3,e5,Be3,Nbd7,Qd2,exd4,Bxd4,Nc5,Bc2,Re8,O-O,Ncxe4,Nxe4,Nxe4,Bxe4,Rxe4,Bxg7,Kxg7,b3,Qf6,Nh2,h5,f3,Qd4+,Qxd4+,Rxd4,g4,Bd7,Rf2,Re8,Rg2,h4,Rf1,g5,Rgf2,c5,f4,Rxf4,Rxf4,gxf4,Rxf4,Re2,Nf3,Rxa2,Nxh4,Ra3,Rf3,Ra1+,Kf2,Ra2+,Kg3,Bc6,Re3,a5,Nf5+,Kg6,Nxd6,Rg2+,Kf4,a4,bxa4,Bxa4,h4,Bc6,h5+,Kh7,g5,Rh2,h6,Rh4+,Kg3,Rh1,Re7,Kg6,Nxf7,Rg1+,Kf2,Rg2+,Ke1,Rh2,Ne5+,Kxg5,h7,Kf6', 'Ng4+,Kxe7,Nxh2', 'https://lichess.org/training/ni1H4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ni2cG', 'Classical', 'aravinduk7', 1931, 'AqilahHusna', 1909, 'e4,d6,d4,Nf6,Bd3,Nbd7,c4,e5,d5,Be7,Nc3,c6,Nf3,Qc7,Bd2,O-O,O-O,Nb6,Re1,Bd7,Rc1,c5,Qe2,Bg4,h3,Bh5,Nb5,Qd7,b3,Bg6,Nh4,Bh5,f3,Nxe4,Qxe4,g6,Bh6,Rfc8,Re2,f5,Nxg6,fxe4,Nxe7+,Qxe7,Rxe4,a6,Nc3,Kf7,f4,Bg6,Re3,Bxd3,Rxd3,Ke8,fxe5,dxe5,Re1,Kd8,Rg3,Qh4', 'Bg5+,Qxg5,Rxg5', 'https://lichess.org/training/Ni2cG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NI2ve', 'Blitz', 'CaDavid96', 2139, 'FM JACarmona', 2306, 'e4,e5,Nc3,Nc6,g3,Bc5,Bg2,d6,Nge2,Nf6,O-O,a6,Kh1,Bg4,f3,Bh5,b3,h6,Na4,Ba7,c3,b5,Nb2,Bg6,d4,exd4,Nxd4,Nxd4,cxd4,O-O,Be3,Re8,Nd3,Nd7,Rc1,f5,Nf4,Bf7,Qd2,fxe4,fxe4,Nf6,e5,dxe5,dxe5,Rxe5', 'Qxd8+,Rxd8,Bxa7', 'https://lichess.org/training/NI2ve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIbfD', 'Rapid', 'rjymckjy', 1774, 'IvanVK2009', 1694, 'e4,c5,a3,e6,Bc4,d5,exd5,exd5,Ba2,Nf6,h3,Nc6,Nf3,Bf5,O-O,Be7,d3,O-O,Bg5,h6,Bf4,Bd6,Be3,Qd7,Kh1,b6,Ng1,Qe7,Nd2,d4,Bxh6,gxh6,Nc4,Kh7,Qf3,Bxd3,Qxd3+,Kh8,Nf3,Ne4,Rae1,f5,Nfd2,Nxf2+,Rxf2,Qxe1+,Rf1,Qg3,Qxg3,Bxg3,Rf3,f4,Ne4,Ne7,Ne5,Bh4,Nd6,Rf6,Ndf7+,Kg7,Nd7,Rg6,Rxf4,Bg5', 'Nxg5,Rxg5,Rf7+,Kh8,Rxe7', 'https://lichess.org/training/nIbfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIblC', 'Rapid', 'husainkhan', 1801, 'gunjan21', 1749, 'e4,c5,Nf3,Nc6,h3,e5,b3,Nf6,d3,d6,Bg5,Be7,Be2,Be6,O-O,O-O,c4,Nd4,Nc3,Nd7,Be3,a6,Nd5,Bxd5,exd5,f5,Bxd4,cxd4,Qc2,Nc5,b4,Nd7,a3,Rc8,Rac1,Nb6,a4,Nxd5,Qb3,Nf4,Rfe1,Nxe2+,Rxe2,Bg5,Rce1,Bf6,c5+,Kh8,cxd6,Qxd6,Nxe5,Rc3', 'Nf7+,Rxf7,Qxf7', 'https://lichess.org/training/nIblC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NIbtn', 'Bullet', 'Diablo48', 1756, 'coachmode', 1842, 'c4,c5,Nc3,Nc6,e4,Nf6,g3,d6,Bg2,e5,d3,Be6,Nge2,Be7,O-O,O-O,h3,a6,Kh2,b5,f4,b4,Nd5,Bxd5,cxd5,Nd4,Nxd4,cxd4,f5,Rc8,g4,Rc5,g5,Nd7,h4,Qc7,Bd2,Rc2,f6,gxf6,gxf6,Nxf6,Bh6,Rc8,Rxf6,Bxf6,Qg4+,Kh8,Rf1,Rg8,Qf3,Rgxg2+,Qxg2,Rxg2+,Kxg2,Qc2+,Rf2,Qxd3,Rxf6,Qxe4+,Kg3,Qxd5,Kg4,d3,Rf2,e4,Be3,Qe6+,Kf4,Qe5+,Kg4,d5,Rg2,f5+,Kh3,f4,Bd2,e3,Bxb4,Qf5+,Kh2,f3', 'Bc3+,d4,Bxd4+,Qf6,Bxf6#', 'https://lichess.org/training/NIbtn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nICy2', 'Classical', 'chanakyan', 1871, 'namakando', 1965, 'e4,c6,d4,d5,Nd2,g6,e5,f6,f4,Nh6,Ngf3,Bg7,h3,Nf5,g4', 'Ne3,Qe2,Nxc2+', 'https://lichess.org/training/nICy2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('niDEQ', 'Rapid', 'sahin2121', 1887, 'Genadedood', 1905, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bb5+,c6,Be2,Bd6,Be3,O-O,h3,Re8,Nbd2,Ne4,c4,Nxd2,Qxd2,dxc4,Bxc4,Qb6,O-O-O,Bf5,Ne5,Be6', 'd5,cxd5,Bxb6', 'https://lichess.org/training/niDEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nieDi', 'Bullet', 'MazDaY', 1605, 'Will_Rock', 1516, 'g3,d5,Bg2,Nf6,d4,h5,Nf3,Nc6,O-O,h4,Nxh4,Rxh4,gxh4,e5,dxe5,Nxe5,Bg5,c6,e4,Bg4,Qd4,Ng6,e5,c5,Qe3,d4,Qb3,Be6,Qxb7,Bd5,Bxd5,Qxd5,Qb5+,Kd8,exf6,gxf6,Bxf6+,Be7,Bxe7+,Kxe7,Re1+,Kf8,Nd2,Nxh4,f3', 'Qg5+,Kf1,Qg2#', 'https://lichess.org/training/nieDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NIEJx', 'Classical', 'ObjectifPardu', 1862, 'mrblackpawn', 1701, 'd4,d5,c4,a6,cxd5,Qxd5,Nc3,Qd8,e4,h6,Bc4,c6,f4,Nd7,Be3,Ngf6,Nf3,e6,O-O,Be7,h3,O-O,Ne5,Bb4,Qf3,Bd6,Ne2,Qe7,Ng3,Nh7,Ng4,Qh4,e5,Bc7,f5,Ng5,Qf4,Nb6,Bd3,Nd5', 'Nf6+,Nxf6,Qxh4', 'https://lichess.org/training/NIEJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIfHE', 'Rapid', 'umbaga', 1773, 'DmitryVNaumov', 2006, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,c5,O-O,h6,Re1,Nc6,c3,dxc3,Nxc3,Be7,e5,Nh7,Qd5,O-O,Re4,Nb4,Qd2,a6,a3,Nc6,Rg4,d5,Qxh6', 'Bxg4', 'https://lichess.org/training/nIfHE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIFkA', 'Rapid', 'zashem', 1887, 'vova19732311', 1916, 'd4,d5,Bf4,e6,e3,Be7,Nf3,Nf6,h3,b6,Nbd2,c5,c3,c4,Qc2,O-O,g4,Nfd7,g5,f5,gxf6,Nxf6,Rg1,Kh8,h4,Nc6,Ng5,b5,Ndf3,b4,Ne5,Nxe5,dxe5,Ne4,Nxe4,dxe4,Qxe4,Bd7,Bxc4,bxc3,Bd3,Rf5,bxc3,Rb8,Qg2,Rf7,Qe4,Rf5,h5,Qc7,Rc1,Bb4,Ke2,Bc6,Qc4,Ba3,Rc2,Qd7,Bxf5,exf5,e6,Qe8,Bxb8', 'Bb5,Qxb5,Qxb5+,c4,Qxb8', 'https://lichess.org/training/nIFkA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIfR5', 'Classical', 'Rezaatharinia', 1934, 'BenoyUayan', 2019, 'e4,c5,Nf3,e6,c3,Qc7,d4,a6,Bd3,d6,O-O,Nd7,Bf4,b6,Nbd2,Bb7,Rc1,g6,Re1,Bg7,h3,e5,dxe5,dxe5,Bg3,Ngf6,Nc4,Nh5,Bh2,b5,Ne3,O-O,Nd5,Bxd5,exd5,c4,Be4,Rae8,d6,Qb6,Bc2,f5,g4,fxg4,hxg4,Nf4,Qd2,Nd3,Bxd3,Rxf3,Be4,Rf6,Bd5+,Kh8,Re2,Rxd6,Rce1,Qc5,Rd1,Nf6,Bxe5,Rxd5,Qxd5', 'Nxd5,Bxg7+,Kxg7', 'https://lichess.org/training/nIfR5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIgrG', 'Blitz', 'Gladyak', 1822, 'Rezaatash', 1817, 'f4,Nc6,Nf3,d5,d4,Bg4,e3,e6,Bd3,Nf6,O-O,Ne4,h3,Bxf3,Qxf3,f5,c3,Be7,g4,O-O,g5,Bxg5,fxg5,Nxg5,Qg3,Rf6,Qh2,Rg6,Kf2,Ne4+,Bxe4,fxe4,Ke2,Qh4,Kd2,Rg3,Qf2,Qxh3', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/nIgrG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NIgv1', 'Rapid', 'richard_chessmaster', 2023, 'BennMaxx', 1944, 'e4,e6,Nf3,d5,exd5,exd5,d4,c6,h3,Nf6,Bd3,Be7,O-O,Be6,Re1,O-O,Ng5,Bc8,Nc3,h6,Nf3,Re8,Bf4,Bd6,Rxe8+,Nxe8,Bxd6,Nxd6,Qe2,Be6,Re1,Nd7,a3,Nf6,Ne5,Qc7,f4,Re8,g4,Nd7,f5,Nxe5,fxe6,Ng6,exf7+,Qxf7,Qf2,Qxf2+,Kxf2,Rxe1,Kxe1,Nf4,Bf1,Nc4,Bxc4,dxc4,Ne4,Nxh3,Nd6,b5,Nc8,a5,Ne7+,Kf7,Nxc6,a4,Na7,Ke6,Nxb5,Kd5,Nc3+,Kxd4,Nxa4,Nf4,Kf2,Ng6,Nb6,Ne5,Kg3,Kc5,Nc8,c3,b3,Nd3,Kf3,Ne1+,Ke2,Nxc2,Kd3,Nxa3,Kxc3,Nb5+,Kb2,Nd4,Kc3,Nf3,Ne7,Ne5,Nf5,Nxg4,Nxg7,Nf6,Nf5,h5,b4+,Kb5,Nd4+,Kb6,Kc4,h4,Nf3,h3,Nh2,Ne4,Nf3', 'Nd2+,Nxd2,h2', 'https://lichess.org/training/NIgv1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NIGVy', 'Blitz', 'Ali_bm_1344', 1724, 'RajG08', 1773, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,e5,Bb5,Be6,Bg5,Be7,O-O,h6,Bh4,a6,Bd3,O-O,Bg3,Qb6,Qc1,Rac8,Nd2,Nd4,Kh1,Nh5,Bc4,Bxc4,Nxc4,Rxc4,Nd5,Qd8,c3,Ne2,Qd1,Nexg3+,fxg3,Nf6,Qe2,b5,Nxf6+,Bxf6,Qd3,Qb6,b3,Rcc8,Rad1,Rfd8,Qd5,Rxc3,Qd2,b4,Rxf6,gxf6,Qxh6,Qe3,Qxf6,Rc1,Qxd8+,Kg7,Qxd6', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/NIGVy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NIh3l', 'Blitz', 'muhamadriz', 2062, 'sicilliannaga', 2397, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,Bg4,Be2,Bxe2,Ngxe2,c6,O-O,Qc7,h3,e6,Ng3,Bd6,Qf3,Nbd7,Nce4,Nxe4,Nxe4,Bh2+,Kh1,Bd6,c4,O-O,c5,Be7,Bf4,e5,dxe5,Nxe5,Qg3,f6,Rad1,Rad8,b4,Kh8,a3,h6,Nd6,Bxd6,cxd6,Rxd6,Bxe5,fxe5,Qxe5,Rfd8,Rxd6,Qxd6,Qa5,a6,Qb6,Qd7,Qe3,b5,Qb6,Ra8,Qc5,Qb7,Rd1,Re8,Qf5,Re7', 'Rd8+,Re8,Rxe8#', 'https://lichess.org/training/NIh3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NIKjL', 'Classical', 'denisleonardo', 1609, 'Sparmezanovi4', 1613, 'e4,c5,Nf3,g6,Bc4,e6,c3,Bg7,d4,cxd4,cxd4,a6,Nc3,b5,Bb3,Bb7,e5,Ne7,Bf4,O-O,Qd2,Nbc6,O-O-O,a5,Nxb5,Rc8,Nd6,Rc7,Kb1,Ba6,h4,h5,Bh6,Nd5,Bxg7,Kxg7,Rdg1,Ncb4,g4,Bd3+,Ka1,hxg4,Rxg4,Bf5,Rg5,Ra7,h5,a4,Bc4,a3,b3,Nc2+,Kb1,Nxd4+,Kc1', 'Nxf3,Nxf5+,exf5,Rxg6+,fxg6', 'https://lichess.org/training/NIKjL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NIKLX', 'Rapid', 'azizi_php', 1769, 'demonvortex', 1867, 'e4,c5,Bc4,Nc6,d3,e6,c3,d5,exd5,exd5,Qe2+,Be6,Bb3,Nf6,Bg5,Be7,Nf3,O-O,h3,Re8,O-O,Rc8,Nbd2,a5,Nh2,b5,Rfe1,a4,Bc2,Qb6,Ndf3,b4,Qd2,b3,axb3,axb3,Bd1,d4,c4,Ra8,Rxa8,Rxa8,Ne5,Nxe5,Rxe5,Nd7,Re1,Bxg5,Qxg5,h6,Qg3,Ra2,Re2,Qb4,Ng4,Ra1,Nxh6+,Kf8,Qd6+,Ke8,Nf5,Rxd1+,Kh2,Qb8,Nxg7+,Kd8,Qxb8+,Nxb8,Nxe6+,fxe6,Rxe6,Rd2,Rb6,Rxb2', 'Rxb8+,Kc7,Rb5', 'https://lichess.org/training/NIKLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIkt0', 'Rapid', 'riqrey', 2207, 'Sadat432', 2201, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,e3,Bd6,Nf3,c6,Bd3,Bg4,Bd2,O-O,h3,Bh5,e4,dxe4,Nxe4,Nxe4,Bxe4,Bg6,Bxg6,hxg6,O-O,Nd7,Qb3,Qb6,Qc2,Nf6,a4,Rad8,a5,Qc7,Bg5,Be7,Rfe1,Rfe8,Ne5,Bd6,Bxf6,gxf6,Ng4,Kg7,Rxe8,Rxe8,Qc4,Qd7,b4,Rd8,Qc1,g5,Qc4,Bf4,Rd1,Qd5,Qxd5,Rxd5,g3,Bd6,Ne3,Rb5,d5,Bxb4,d6,Bxa5,g4,Kf8,Nf5,Rd5,Rb1,b5,Ra1,Bb6,Re1,Kg8', 'Ne7+,Kg7,Nxd5', 'https://lichess.org/training/nIkt0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIO7J', 'Rapid', 'Vladiaz', 1813, 'Vugar_325', 1932, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,gxf6,Be2,Qd5,Bf3,Qa5+,Bd2,Qb6,Bc3,Be6,Ne2,Nd7,Nf4,Bc4,Be2,Bxe2,Qxe2,O-O-O,O-O-O,Bh6,g3,e5,dxe5,fxe5,Bxe5,Rhe8,Qh5,Bxf4+,Bxf4,Qxf2,Rhf1,Qc5,Qxf7,Re7,Qb3,b5,Kb1,Re4,Qd3,Ree8,h4,Qh5,Qd6,Ne5,Bxe5,Rxd6,Bxd6,Rd8,Rd3,Qg6,Rfd1,Kb7,Bf4,Rxd3,Rxd3,a5,a3,Qe6,Re3,Qd5,Rd3,Qe4,Rd6,c5,Rd7+,Kc6,Rd6+,Kb7,Rd7+,Kc8,Rc7+,Kd8,Rxc5,Qe1+,Ka2,b4,Rxa5', 'b3+,Kxb3,Qxa5', 'https://lichess.org/training/nIO7J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NipiB', 'Classical', 'SpikyOpening', 1929, 'DimaGolubov2020', 1928, 'e4,c5,Nf3,Nc6,d4,d6,Bb5,Bd7,d5,Ne5,Nxe5,Bxb5,Qf3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/NipiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIpQQ', 'Blitz', 'CadoAmazonas', 1614, 'H3BIL_plvn', 1622, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,O-O,a6,Bxc6+,bxc6,d4,Bg4,h3,Bxf3,Qxf3,Nf6,Bg5,h6,Bxf6,exf6,Re1+,Be7,Qe3,Ra7,Nc3,O-O,a3,Re8,Qd2,Bd6,b4,Rxe1+,Rxe1,Re7,Rxe7,Qxe7,Qe3,Qd7,Na4,Bc7,Nc5,Qd6,g3,a5,bxa5,Bxa5,Nb7,Qc7,Nxa5,Qxa5,Qe8+,Kh7,Qxf7,Qxa3,Qd7,Qc3,Qf5+,Kg8,Qd3,Qxd3,cxd3,Kf7,f4,Ke6,Kf2,f5,Kf3,Kd6,g4,fxg4+,Kxg4,c5,dxc5+,Kxc5,f5', 'Kd4,Kh5,Kxd3,f6,gxf6', 'https://lichess.org/training/nIpQQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NiroI', 'Blitz', 'mrjimbomorrison', 1616, 'sstoniss', 1655, 'e4,d5,exd5,Qxd5,Nf3,Qd8,d4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,Nf6,Bg5,O-O,Bd3,h6,Bh4,Nbd7,c4,c6,c3,Qc7,Qc2,Qf4,O-O,Ng4,Rfe1,Ndf6,Re4,Qf5,Bxf6,Nxf6,Rh4,Qa5,Re1,Qxa3,Re5,Qa1+,Ne1,Nd7,Rxh6,Nxe5', 'Bh7+,Kh8,Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/NiroI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NIsK9', 'Classical', 'AMACTASTIC', 1739, 'invachess90', 1780, 'e4,c5,Bc4,d6,Nf3,Nc6,O-O,Nf6,d3,g6,Be3,Bg7,c3,O-O,h3,Na5,Bb3,Nxb3,axb3,a5,Nbd2,b6,Qe2,Ba6,Rfe1,e5,Nc4,b5,Nxa5,c4,bxc4,bxc4,Nxc4,Bxc4,dxc4,Nxe4,Qd3,Nc5,Bxc5,dxc5,Qxd8,Rfxd8,Nxe5', 'Rxa1,Rxa1,Bxe5', 'https://lichess.org/training/NIsK9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NisMK', 'Blitz', 'rickest_rick', 2059, 'vinayvekaria', 2035, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,Bg4,Nf3,e6,c3,Bd6,Bd3,Nbd7,Bg5,Qb6,Qb3,O-O,Bxf6,Nxf6,Ne5,Bxe5,dxe5,Nd5,Qxb6,axb6,h3,Nf4,Bf1,Bf5,Nxf5,exf5,g3,Ne6,Bd3,f4,g4,Rfd8,Bc4,b5,Bb3,Nc5,Bc2,Nd3+,Bxd3,Rxd3,Ke2,Rad8,Rad1', 'f3+,Ke1,Rxd1#', 'https://lichess.org/training/NisMK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NiTf8', 'Rapid', 'legendaryfatguy', 2097, 'amine92', 2160, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Nd7,Bc4,Nb6,Bxf7+,Kxf7,Ne5+,Ke8,Qh5+,g6,Nxg6,Nf6', 'Nxf6+,exf6,Nxh8+', 'https://lichess.org/training/NiTf8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('niUKQ', 'Blitz', 'potato7890', 1634, 'holvisl97', 1751, 'e4,e5,c3,d5,Nf3,dxe4,Qa4+,Bd7,Qxe4,Nf6,Qxe5+,Be7,Bc4,Nc6,Qe3,O-O,O-O,Re8,Qd3,h6,Bb3,Qc8,Bc2,Bg4,h3,Bh5,Nh2,Bg6,Qe2,Bxc2,d4,Bh7,Qf3,Qf5,Qg3,Bd6,f4,Ne4,Qf3,Re7,g4,Qd7,Na3,Bxa3,bxa3,Rae8,a4,Nd6,Ba3,Re2,f5,Nc4,Bc5,b6,Bb4,R8e3,Qh1,a5,d5,N6e5,d6,axb4', 'Qa8+,Qc8,Qxc8#', 'https://lichess.org/training/niUKQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIVKJ', 'Rapid', 'keti2801', 1757, 'gibco', 1833, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,d5,d4,exd4,Nxd4,Nxd4,exd4,Bb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/nIVKJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nivpj', 'Rapid', 'testaccio', 1747, 'khalid1986', 1719, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Nd5,cxd4,Bb4+,Bd2,Qe7,Bc4,Bxd2+,Nbxd2,Nb6,Bb3,Nb4,O-O,d5,exd6,Qxd6,Re1+,Be6,Bxe6,fxe6,Qa4+,Nc6,Qd1,O-O-O,Nb3,Rdf8,Ne5,Qd5,Nxc6,Qxc6,Rc1,Qd5,Rc5,Qd8,Rc1,Qh4,g3,Qf6,Re2,Nd5,Nc5,h5,Nxe6,Rf7,Nc5,h4,Ne4,Qf5,Rcc2,hxg3', 'Nd6+,Kb8,Nxf5', 'https://lichess.org/training/Nivpj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIWp3', 'Blitz', 'ORS1962', 2002, 'NM TacticJesus', 2327, 'c4,g6,Nc3,Nf6,g3,Bg7,Bg2,O-O,Rb1,a5,Nf3,d6,a3,e5,d3,Nc6,b4,axb4,axb4,h6,b5,Ne7,O-O,Be6,Nd2,Rb8,Ba3,Qd7,Qa4,Ra8,Qb4,Rfb8,Rfc1,Bf8,Qb2,Nf5,e3,h5,Nde4,Nxe4,Bxe4,Be7,Nd5,Bd8,Bb4,Kg7,Bc3,c6,Nf4,Bf6,Nxe6+,Qxe6,bxc6,bxc6,Qxb8,Rxb8,Rxb8,d5,cxd5,cxd5,Bxf5,Qxf5,d4,e4,Bb4,h4,Bf8+,Kh7,Rc7,Bg5,Rbb7,Kg8,Bd6,h3,Bf4,Bxf4,Rxf7,Qxf7', 'Rxf7,Kxf7,gxf4', 'https://lichess.org/training/nIWp3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NIXb4', 'Rapid', 'cartman1889', 1768, 'IIRAQ', 1950, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,a6,Ba4,b5,Bc2,Nf6,d4,exd4,cxd4,Bb4+,Nc3,d6,h3,Bb7,O-O,h6,Bf4,Nh5,Bh2,O-O,a3,Ba5,Nd5,Nf6,b4,Bb6,Nxb6,cxb6,d5,Ne7,Re1,Ng6,Nd4,Rc8,Nf5,Ne5,Bxe5,dxe5,Rc1,Qd7,Qd2,Ne8,f4,f6,fxe5,fxe5,Nxh6+,gxh6,Qxh6,Qg7,Qe6+,Qf7,Qxe5,Qf2+,Kh1', 'Rxc2,Rxc2,Qxe1+', 'https://lichess.org/training/NIXb4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NIY3q', 'Blitz', 'JoseAntonioMorales', 1652, 'alotwrite', 1576, 'd4,c6,Nf3,d5,Bf4,Bf5,e3,Nd7,c3,Ngf6,Nbd2,e6,Be2,Nh5,Bg3,Nxg3,hxg3,h6,Nb3,b6,Nh4,Bh7,Bd3,Bxd3,Qxd3,Nf6,Nd2,Bd6,O-O-O,Qc7,f4,Ng4,Rhf1,b5,f5,exf5,Nxf5,Bxg3,Nxg7+,Kd8,Rf4,Nf2,Qf5,Bxf4,exf4,Nxd1,Kxd1,Ke7,Nf3,Rhg8,Nh5,Qd6,Ne5,Qe6,Qh7,Raf8,f5,Qd6,f6+,Kd8,Qf5,Rxg2,Nf4,Rg1+,Ke2,Re8,Kf2,Rg5', 'Nxf7+,Kc7,Nxd6,Rxf5,Nxf5', 'https://lichess.org/training/NIY3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nIyR6', 'Blitz', 'cdthoma', 1928, 'GordsAhoy', 1962, 'd4,Nf6,Nc3,e6,e4,Bb4,Bd3,c5,dxc5,Bxc5,Nf3,d5,exd5,exd5,O-O,O-O,Bg5,h6,Bh4,Be6,Re1,Nbd7,Na4,Bd6,Nd4,Re8,Nxe6,Rxe6,c4,Qa5,Rxe6,fxe6,cxd5,Qxd5,Nc3,Qh5,Qxh5,Nxh5,g3,g5,g4,Nf4,Bg3,Ne5,Be4,Nxg4,Rd1,Nh3+,Kg2,Bxg3,fxg3,Nhf2,Rd7,Nxe4,Nxe4,Rb8,h3,Ne3+,Kf3,Nf5,Nf6+,Kf8,Ng4,a5,Ne5,b5,g4,Ne7', 'Rxe7,Kxe7,Nc6+,Kd6,Nxb8', 'https://lichess.org/training/nIyR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NIZbQ', 'Rapid', 'Dema4619', 1838, 'Eliezer33', 1838, 'd4,d5,Bf4,Nc6,Nf3,Bf5,e3,e6,c3,Bd6,Bxd6,Qxd6,Nbd2,Nf6,Qb3,O-O-O,Be2,h5,Ng5,Rdf8,O-O,h4,h3,Nd7,f4,f6,Ngf3,Be4,Nxe4,dxe4,Nd2,f5,Nc4,Qe7,Ne5,Ndxe5,dxe5,Rfg8,Bc4,Nd8,Qa4,Kb8,b4,g5,Qc2,gxf4,exf4,Qg7,a4,Qg3,Rad1,Qxh3', 'Rxd8+,Rxd8,gxh3', 'https://lichess.org/training/NIZbQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nj0gy', 'Rapid', 'theoldKatarina', 1716, 'MasonJar', 1712, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Nf3,Bb4,Bd2,Ne7,a3,Bxc3,Bxc3,O-O,Nh4,b6,Be2,c5,dxc5,bxc5,Bd2,c4,g4,Bg6,Rg1,Nbc6,f4,h6,f5,exf5,gxf5,Nxf5,Nxf5,Bxf5,Bxh6,Qh4+,Rg3,Qxh6,Qxd5,Qxh2,Rg2,Qh1+,Bf1,Ne7', 'Rxg7+,Kxg7,Qxh1', 'https://lichess.org/training/nj0gy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJ0ql', 'Rapid', 'kaon67', 2041, 'delochess777', 2034, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bc5,O-O,d6,d3,O-O,Bg5,h6,Bh4,Nd4,Bc4,c6,Nxd4,Bxd4,Rb1,a5,a3,b5,Ba2,Be6,Bxe6,fxe6,Ne2,Bb6,Kh1,g5,Bg3,Nh5,d4,Nf4,dxe5,dxe5,Nc3,Qe7,f3,Rad8,Qc1,Rd7,Bf2,Bd4,g3,Nh3,Bxd4,exd4,Ne2,h5,Kg2,g4,f4,e5,f5,Ng5', 'f6,Qh7,Qxg5+', 'https://lichess.org/training/NJ0ql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nJ2gC', 'Rapid', 'hhlb', 1796, 'ga1974', 1795, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,h6,Bh4,Ng4,Bxe7,Qxe7,h3,Nf6,cxd5,Nxd5,Nxd5,exd5,Bd3,c6,O-O,Nd7,Rc1,Nf6,Re1,Be6,b3,Qd7,e4,Bxh3,gxh3,Qxh3,Nh2,Rfe8,Qf3', 'Qxf3,Nxf3,dxe4', 'https://lichess.org/training/nJ2gC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nJ3kV', 'Bullet', 'spirosaek', 1624, 'sgen', 1643, 'e4,e5,Nf3,f5,Nxe5,Qf6,Nf3,fxe4,d4,exf3,Qxf3,Qxf3,gxf3,Nf6,Bg5,Be7,Nc3,c6,O-O-O,d5,Bg2,O-O,Bxf6,Bxf6,f4,Bh4,Rhg1,Rxf4,f3,Bg5,Ne2,Rxf3+,Kb1,Rf5,Bh3,Rf8,Bxc8,Be3,Be6+,Kh8,Rg3,Bf2,Rg2,Bh4,Rdg1,Bf6,c3,Re8,Nf4,Na6,Rg3,Nc7', 'Ng6+,hxg6,Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/nJ3kV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nj6f2', 'Rapid', 'Slim01', 1724, 'asfalis', 1720, 'd4,Nf6,c4,e6,Nf3,b6,Nc3,Bb7,d5,Bb4,Bg5,d6,e4,Nbd7,Bd3,h6,Bxf6,Nxf6', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/nj6f2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nJ8WG', 'Blitz', 'Adulis45', 1764, 'Rocksia', 1763, 'd4,d5,Nf3,Nf6,e3,e6,Bd3,c5,O-O,Nc6,dxc5,Bxc5,b3,e5,Bb2,e4,Bb5,exf3,Qxf3,O-O,Nc3,a6,Bd3,Ne5,Qg3,Bd6,f4,Nh5,Qf2,Ng4,Nxd5,Nxf2,Rxf2,Nf6,Nxf6+,gxf6,Rf3,Qe7,Rh3,f5', 'Rg3+,Qg5,Rxg5#', 'https://lichess.org/training/nJ8WG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nj9qc', 'Bullet', 'RUS-142', 1659, 'crayzeejim', 1650, 'd4,e6,Nf3,d5,Bg5,f6,Bh4,g5,Bg3,h5,h4,c5,hxg5,fxg5,Be5,Rh7,Nfd2,Nc6,e3,Nxe5,dxe5,h4,Be2,Bg7,Bh5+,Ke7,Bg4,b6,Nf3,Ba6,Nxg5,Rh8,Nxe6,Qb8,Nxg7,Bc8,e6,Rh7,Nh5,Bxe6,Bxe6,Qe5,Rxh4,Qxe6,Nc3,Nf6,g4,Rd8,Qf3,Rf7,Qg3,Rg8,Qc7+,Qd7,Qe5+,Qe6,Qxe6+,Kxe6,O-O-O,Nxg4,Nxd5,Nxf2,Rd2', 'Rg1+,Rd1,Rxd1#', 'https://lichess.org/training/nj9qc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('njafA', 'Rapid', 'BloodyDiarrhea', 1908, 'mcfry999', 1895, 'e4,e5,Nf3,Nf6,Nc3,Bc5,d3,d6,Bg5,O-O,Nd5,Nbd7,b4,Bxf2+,Kxf2,Ng4+,Kg3,Ndf6,Bxf6,gxf6,Nh4,Kh8,Nf5,Bxf5,exf5,Rg8,Kf3,c6,Ne3,Nxe3,Kxe3,Qb6+,Kd2,Qd4,c3,Qf2+,Qe2,Qxf5,g3,Rg5,Bg2,d5,Rhf1,Qg6,Qf2,f5,Rae1,e4,dxe4,dxe4,Qd4+,Kg8,Qd7,f4,Rxe4', 'Rd5+,Qxd5,cxd5', 'https://lichess.org/training/njafA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NjBOK', 'Rapid', 'sol_dre', 1959, 'sreejithks', 1902, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,Nc6,Nxc6,bxc6,g4,e5,Bc4,Be7,g5,Nd7,Qf3,O-O,h4,Nc5,g6,Be6,gxh7+,Kh8,Bxe6,fxe6,Qg4,d5,Rg1,Bf6,Be3', 'd4', 'https://lichess.org/training/NjBOK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('njCjr', 'Classical', 'bauss54', 2063, 'comfortable', 2220, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,b6,Bg5,Be7,e3,O-O,Bd3,dxc4,Bxc4,Bb7,O-O,h6,Bh4,c5,dxc5,Bxc5,Qe2,Qe7,Rfd1,Nbd7,Ba6,Bxa6,Qxa6,g5,Bg3,Nh5,a3,Nxg3,hxg3,Nf6,b4,Bd6,Nb5,Rfd8,Rac1,e5,Nxd6,Rxd6,Rxd6,Qxd6,Qb7,Rd8,Qa6,Ng4,Qc4,e4,Nd4,Qf6,Qe2,Ne5,f3,Nd3,Rc6,Qe5,fxe4,Qxe4,Qf3,Rxd4,exd4,Qxd4+,Kh2,Ne5,Rc8+,Kg7,Qf5', 'Ng4+,Qxg4,Qxg4', 'https://lichess.org/training/njCjr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('njcpG', 'Rapid', 'TrancosoChess', 1656, 'Lukkazz', 1604, 'e4,d6,d4,Nf6,Nc3,g6,Bc4,Bg7,Bg5,O-O,h3,e5,dxe5,dxe5,Qxd8,Rxd8,Nb5,Na6,Bxf6,Bxf6,Nf3,c6,Nc3,Nb4,Bb3,Be6,O-O,Rd6,a3,Bxb3,axb4,Bxc2,Rac1,Bb3,Nb1,Rad8,Na3,Bd1,Nc4,Rd3,Nfd2,Be2,Rfe1,Rxd2,Nxd2,Rxd2,Rb1,Be7,f3,Bxb4,b3,Bc5+,Kh2,Bxf3,Kg3,Be2,Rbc1,Rd3+,Kh2,Rxb3,Rxc5,Rb2,Rxe5,Bf3,Rg1,b5,Kg3,Be2,Rc1,Rb3+,Kf2,Rb2,Rxc6,Bc4+,Kg3,a5,Re8+,Kg7,Rcc8,a4,Ra8,Rb3+,Kf4,a3,Kg5,f6+,Kf4,b4,g4,Rb1,Ra7+,Kh6,h4,a2', 'g5+,fxg5+,hxg5+,Kh5,Rxh7#', 'https://lichess.org/training/njcpG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJCS4', 'Classical', 'nizarFATACHI', 1669, 'danmanning', 1664, 'e4,c5,Nf3,d6,Bc4,e6,c3,Nf6,Bd3,a6,Bc2,Be7,d3,O-O,Bg5,Nbd7,Nbd2,Re8,h3,b5,c4,bxc4,Nxc4,a5,Qd2,Ba6,Bb3,Bxc4,Bxc4,Nb6,b3,Nxc4,bxc4,Qc7,O-O,Nd7,Rab1,Bf6,Qf4,a4,Qg3,a3,Bh6,g6,Bg5,Kg7,Bxf6+,Nxf6,Ng5,Nh5,Qe3,e5,f4,Nxf4,g3,Ne6', 'Rxf7+,Qxf7,Nxf7', 'https://lichess.org/training/NJCS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NjDtE', 'Blitz', 'shayabutbul', 1722, 'Chigorin_2000', 1750, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,Na5,Nxe5,Nxc4,Nxc4,d5,exd5,Qxd5,Ne5,Qxg2,Qf3,Qxf3,Nxf3,Nf6,Rg1,O-O,Bh6,Ng4,Bxg7,Kxg7,h3,f5,Ne5,Kf6,hxg4,fxg4,Nxg4+,Bxg4,Rxg4,Rae8,Nd2,Bb4+,Kd1,Bxc3,Rc1,Bxd2,Kxd2,c6,Rb1,Re7,Rf4+,Kg7', 'Rg1+,Kh8,Rxf8#', 'https://lichess.org/training/NjDtE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJepz', 'Classical', 'ku2019', 1801, 'spryZEN2014', 1773, 'c4,e5,Nc3,Nf6,d4,exd4,Qxd4,Nc6,Qd1,Bb4,Bg5,O-O,Nf3,Qe7,e3,Qe6,Be2,Ne4,Bf4,Nxc3,bxc3,Bxc3+,Nd2,Bxa1,Qxa1,Nb4,Qb2,Qb6,Be5,f6,Bd4,c5,Bc3,d5,O-O,Be6,cxd5,Nxd5,Qc2,Nxc3,Qxc3,Bxa2,Bf3,Rab8,Qc2,Bf7,Ne4,Rfc8,Nc3,Bc4,Rb1,Qa6,Re1,b5,Qf5,b4,Nd5,Bxd5,Bxd5+,Kh8,Be4,g6,Qh3,f5,Bd5,b3,e4,b2', 'Qc3+,Qf6,Qxf6#', 'https://lichess.org/training/NJepz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NjezM', 'Rapid', 'GioacchinoGreek', 2004, 'mulyonobae', 2005, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Bf5,Nf3,Bg4,Be2,e6,O-O,c6,Bf4,Bd6,Bg3,Nf6,Re1,O-O,h3,Bh5,Bxd6,Qxd6,Ne5,Bxe2,Rxe2,Qd8,Ne4,Nxe4,Rxe4,Nd7,c3,Nf6,Re1,Qc7,Qe2,Rad8,Rad1,c5,g4,cxd4,cxd4,Qb6,g5,Nd5,h4,Nf4,Qe4,Nh5,Rd2,Qb4,Red1,g6,Ng4,Rd5,Nf6+,Nxf6,gxf6,Rfd8,Qf4,Rh5,Rc2,Rf5,Qc7,Rf8,Qe7,Qb5,Rc5,Qe2', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/NjezM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJF9n', 'Rapid', 'zebj70', 1697, 'sammak', 1747, 'e4,Nf6,Nc3,d6,d4,Bg4,Be2,Bxe2,Qxe2,c5,Nf3,cxd4,Nxd4,e5,Ndb5,a6,Na3,Be7,Be3,Nbd7,O-O-O,b5,Nd5,O-O,f3,Nxd5,Rxd5,b4,Nc4,Nf6,Bb6,Qc8,Rd2,Qc6,b3,d5,exd5,Nxd5,Rxd5,Qxd5,Rd1,Bg5+,Be3,Bxe3+,Qxe3,Qb5,Nd6,Qa5,Nc4,Qxa2,Qxe5,Rfe8,Qd4,a5,Nb6,Rab8,Nd7,h6,Nxb8,Rxb8,Qe5,Rc8,Qb2,Qa3,Qxa3,bxa3,Kd2', 'Rd8+,Ke2,Rxd1,Kxd1,a2', 'https://lichess.org/training/NJF9n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nJggS', 'Rapid', 'plamenacc', 1600, 'daesou1ae', 1615, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qxe4+,Kf1,Bg4,d3,Bxf3,gxf3,Qf5,Nd2,Bd6,Ne4,Nf6,Rg1,O-O,Rg2,Nxe4,fxe4,Qe6,b3,Bc5,Bb2,g6,h4,f5,h5,fxe4,Qd2,exd3,cxd3,Rf3,Qh6,Bf8,Qd2,Qh3,hxg6,Qh1+,Rg1,Qh3+,Rg2,Qh1+,Rg1,Qh3+,Rg2,h6,g7,Bxg7', 'Bxg7,Qh1+,Rg1', 'https://lichess.org/training/nJggS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NjGoU', 'Rapid', 'dodo20201', 1667, 'MMM1995', 1594, 'd4,e6,e4,Nc6,a3,Nf6,Nc3,a6,Nf3,h6,Bc4,d5,exd5,exd5,Bd3,Be6,O-O,Bd6,Re1,O-O,Ne5,Bxe5,dxe5,Ng4,f4,Qe7,h3', 'Qc5+,Kh1,Nf2+,Kh2,Nxd1', 'https://lichess.org/training/NjGoU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJh0f', 'Rapid', 'sabauioan', 1834, 'Michael_C_Price', 1917, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Bxd7+,Bxd7,Nc3,g6,d4,Bg7,dxc5,dxc5,Be3,b6,e5,Bc6,Bf4,e6,Qe2,Ne7,Rad1,Qc7,Ne4,Bxe4,Qxe4,O-O,Rd3,Rad8,Rfd1,Rxd3,Rxd3,Rd8,h3,h6,Nh2,Kh7,Ng4,Nd5,Bc1,h5,Nh2,Bxe5,Nf3,Bf6,g4,Nb4,Rxd8,Qxd8,Be3,Bxb2,gxh5,Qf6,Ng5+,Kg7,h6+,Kxh6,Nxe6+,Kh7,Ng5+,Kg7,Qh4,Kg8,Qh7+,Kf8,Ne4,Qg7', 'Bh6,Qxh6,Qxh6+', 'https://lichess.org/training/NJh0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('njI5R', 'Blitz', 'percussions1214', 2145, 'GM pollocuba2019', 2494, 'e4,c5,d4,cxd4,Nf3,g6,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,Nxc6,bxc6,e5,Nd5,Nxd5,cxd5,Qxd5,Rb8,Bc4,O-O,Bd4,Bb7,Qc5,d6,exd6,exd6,Qxa7,Bxg2,Bxg7,Kxg7,Qd4+,Qf6,Qxf6+,Kxf6,Rg1,Bf3,Bb3,Rfe8+,Kd2,Re2+,Kd3,Rbe8,a4,Rxf2,a5,Be2+,Kc3,Re3+,Kd4,Re5,a6,Rf4+,Kc3,Bf3,a7,Ba8,Rgf1,Ref5,Rxf4,Rxf4,Rd1,Ke7,Bc4,Rf5,b4,d5,Bd3,Rf6,Rb1,Kd6,b5,Kc5,b6,d4+,Kd2,Rxb6,Ra1,Rf6,Ra5+,Kb6', 'Ra6+,Kb7,Rxf6', 'https://lichess.org/training/njI5R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NjLaf', 'Rapid', 'defensywneszachy', 1751, 'yavi19', 1718, 'e4,g5,d4,e6,Nc3,Bb4,Bd2,Nc6,Na4,Bxd2+,Qxd2,b5,Nc5,d6,Nb3,a6,O-O-O,Bb7,d5,Ne5,dxe6,fxe6,f3,g4,f4,Nd7,Nd4,Qf6,f5,exf5,exf5,Ne7,Re1,O-O-O,Nge2,Nxf5,Nxf5,Qxf5,Qf4,Qg6,Nd4,Rdf8,Qe3,Ne5,h3,c5,Nb3,h5,hxg4,Nxg4,Qe6+,Qxe6,Rxe6,Nf2,Rh4,Kd7,Rg6,Rf7,g3,Be4,Rg5,Bf3,Bh3+,Kc7,g4,Re8,Rhxh5,Re1+,Kd2,Rfe7,Rxc5+,dxc5,Rxc5+,Kd6,Rf5,R1e2+,Kc3,Ne4+,Kb4,a5+,Kxa5,Ra7+,Kxb5,Rb7+,Ka6,Nc5+,Nxc5,Rc7,Rf6+,Kxc5,Rxf3', 'Re6+,Ka5,Ra7#', 'https://lichess.org/training/NjLaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJLMP', 'Rapid', 'srinadhp', 1633, 'Ertugrul96', 1661, 'e4,e6,Nf3,c6,d4,Nf6,Nc3,b5,a3,Bb7,b4,a5,Na2,Nxe4,Bd3,f5,O-O,axb4,Bxe4,fxe4,Ne5,d6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/NJLMP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJmzu', 'Blitz', 'matmakor11', 1737, 'chacmool7', 1715, 'e4,e5,f4,exf4,Nf3,d5,exd5,Nf6,Bc4,Bc5,d4,Bb6,O-O,O-O,Bxf4,Nxd5,Bxd5,Qxd5,c3,Bg4,Nbd2,c5,h3,Bh5,dxc5,Bxc5+,Kh1,Nc6,Qc2,Bg6,Qc1,Rfe8,Nb3,Bb6,Nbd4,Qh5,Rf2,Be4,Qd2,Rad8,Raf1,Nxd4,Nxd4,Qxh3+,Kg1,Qg4,Be3,f5,Rf4,Qh5,Nxf5,Rxd2', 'Ne7+,Kh8,Rf8+,Rxf8,Rxf8#', 'https://lichess.org/training/NJmzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJNCf', 'Classical', 'MridulNegi', 1709, 'Kinder1001', 1689, 'Nf3,Nf6,d4,d6,g3,g6,h3,Bg7,Bg2,Nc6,O-O,O-O,Qd3,Bf5,e4,Nxe4,g4,Nxf2,Qe2,Bxg4,hxg4,Nxg4,Nc3,Nxd4,Nxd4,Bxd4+,Kh1,f5,Bg5,Kh8,Bxe7,Qd7,Rf4,Be5,Bxf8,Bxf4,Be7,Re8,Qf3,Qxe7,Qxf4,Qe1+', 'Rxe1,Rxe1+,Bf1', 'https://lichess.org/training/NJNCf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nJOVv', 'Rapid', 'amkw97', 1746, 'Lime_Leaf', 1866, 'e4,c5,Bc4,Nc6,a3,Nf6,d3,d5,exd5,Nd4,c3,Nf5,Qf3,h6,h3,Nh4,Qg3,g5,Nf3,Nf5,Qh2,e6,dxe6,Bd6,exf7+,Kf8,Qg1,g4,hxg4,Nxg4,Ng5,Bd7,Ne6+', 'Bxe6,Bxe6,Qe7', 'https://lichess.org/training/nJOVv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nJQXB', 'Blitz', 'IM Sarakhatkhan', 2510, 'Dzon_Vejn', 2392, 'd4,Nf6,Nf3,c5,b3,cxd4,Bb2,e5,e3,dxe3,fxe3,e4,Nd4,Nc6,Bc4,Bb4+,c3,Bc5,O-O,Ne5,Be2,O-O,c4,d5,Nf5,Bxf5,Bxe5,Bxe3+,Kh1,Bg6,Bxf6,gxf6,cxd5,Qa5,a4,Rfd8,Bc4,a6,Na3,Bc5,Qe2,f5,Nc2,Qc3,Rad1,Qe5,Ne3,f4,Ng4,Qg5,h3,h5,Nh2,Bd6,Qe1,Re8,Qc3,Re5,Rde1,Rae8,Qd4,Kh7,Re2,Qg3,Rfe1,Rg5,Nf1,Qh4,Qf2,Qxf2,Rxf2,Rge5,Ra2,f3,gxf3,exf3,Rxe5,Rxe5,Rf2,Be4,Nd2,f5,Nxf3,Re7,h4,Rg7,Bf1,Rg3,Bg2,Kg6,Ng5,Bxg2+,Rxg2,Rxg2,Kxg2,Bf4,Nf3,Bd6,Kf2,Kf6,Ke3,Bc5+,Kd3,Bd6,Kc4,b5+', 'axb5,axb5+,Kxb5', 'https://lichess.org/training/nJQXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJRaH', 'Blitz', 'cleonaara', 2277, 'Fringe5926', 2260, 'e4,e5,f4,d5,Nf3,exf4,exd5,Nf6,c4,c6,d4,cxd5,c5,Nc6,Bxf4,Bg4,Bb5,Qa5+,Nc3,Ne4,O-O,Nxc3,Bxc6+,bxc6,bxc3,Be7,Re1,Qxc3,Rxe7+,Kxe7,Bd6+,Kd8,Ne5,Bxd1,Rxd1,Rc8,Nxf7+,Kd7,Rb1,Qxd4+,Kh1,Rhf8,Ng5,Rb8,Re1,Rfe8,Rf1,Qd3,Rf7+,Kc8', 'Rc7+,Kd8,Nf7#', 'https://lichess.org/training/NJRaH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJRWc', 'Rapid', 'Rapha_br', 1735, 'AkifAliAkif1970', 1684, 'e4,e5,Nf3,d6,Be2,Be7,d4,exd4,Qxd4,Nf6,Nc3,c6,b4,O-O,Bd2,Na6,Bxa6,bxa6,O-O,Bb7,Qe3,Ng4,Qe2,c5,bxc5,dxc5,h3,Nf6,Bg5,h6,Bxf6,Bxf6,e5,Bg5,Rad1,Qa5,Ne4,Bxe4,Qxe4,Qxa2,Ra1,Qb2,Nxg5,hxg5,Rxa6,Rfe8,e6,f6,e7,Qb4,Qf3,Kf7,Qh5+,Kxe7,Qh7,Kf7,Qh5+,Kg8,Qg6,Qf4,Raa1,Re2,Rad1,Rae8,Rd7,R8e7', 'Rd8+,Re8,Rxe8+,Rxe8,Qxe8+', 'https://lichess.org/training/NJRWc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nJRYp', 'Blitz', 'thedoctorzim', 1653, 'vovan80', 1679, 'd4,d5,e3,Nc6,Nc3,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,e5,dxe5,Nxe5,Qd1,Bb4,Bd2,O-O,a3,Bc5,g3,Ne4,Nxe4,dxe4,Bg2,Nc4,Bc3,Qxd1+,Rxd1,f5,O-O,Rad8,g4,g6,f3,Bxe3+,Kh1,Bf4,fxe4,Ne3', 'Rxd8,Rxd8,Rxf4,Rd1+,Kh2', 'https://lichess.org/training/nJRYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJSm9', 'Blitz', 'Bbego64', 1956, 'Denov_2018', 2044, 'e4,d6,d4,Nd7,Nc3,c6,f4,Qc7,Nf3,e5,Be3,Be7,d5,Ngf6,h3,O-O,f5,a6,g4,cxd5,exd5,b5,g5,Nh5,Ne4,Bd8,Nxe5,Nxe5,Qxh5,Bxf5,Bg2,Bg6,Qe2,Re8,Bd4,Rc8,O-O-O,Nc4,h4,Qa5,Kb1,b4,Rhf1,Na3+,bxa3,bxa3,Rfe1,Bb6,Nf6+,gxf6', 'Qxe8+,Rxe8,Rxe8+,Kg7,Bxf6#', 'https://lichess.org/training/NJSm9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJSMa', 'Rapid', 'oncec', 1791, 'Omoi6', 1904, 'e4,e5,Nc3,Nf6,Bc4,Nxe4,Qh5,Nd6,Bb3,c6,Nge2,Qf6,O-O,g6,Qh3,Bg7,d3,O-O,Qe3,Nf5,Qd2,d5,Ng3,Na6,a3,Nc5,Ba2,Nh4,Qg5,Nf5,Bd2,Qd6,Bc1,Bh6', 'Nxf5,Bxg5,Nxd6', 'https://lichess.org/training/NJSMa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJSQb', 'Blitz', 'infan', 2179, 'WIM Laburi2015', 2223, 'e4,c5,Nc3,e6,d4,cxd4,Qxd4,Nc6,Qe3,Nf6,Bc4,a6,Bd2,Qc7,Nf3,b5,Bb3,Bb7,Nd5,exd5,exd5+,Ne7,Bb4,d6,O-O-O,O-O-O,Ng5,Nexd5,Bxd5,Nxd5,Rxd5,Bxd5,Qd2,Qc6,f3,f6,Nh3,Be7,Rd1,Bxa2,Nf4,g5,Ne2,Bf7,Nd4,Qc4,b3,Qd5,Qc3+,Kb7,g4,Rc8,Qb2,Qe5,Re1,Qf4+,Bd2,Qxh2,Rxe7+,Rc7,Rxc7+,Kxc7,Qc3+,Kd8,Qa5+,Kd7,Qxa6,Qg1+,Kb2,Qxd4+,Bc3,Qc5,Qb7+,Ke6,Qe4+,Kd7,Bxf6,Re8,Qb7+,Qc7,Qxb5+,Ke6', 'Qf5#', 'https://lichess.org/training/NJSQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('njstW', 'Blitz', 'ColombianoMano', 1759, 'titanic1912', 1778, 'c4,Nf6,d4,e6,Nc3,Nc6,e4,Bb4,Bd3,Bxc3+,bxc3,e5,d5,Ne7,Bg5,Ng6,Nf3,d6,h3,b6,O-O,Bd7,Nd2,h6,Be3,Nf4,Nb3,Nxd3,Qxd3,Nh5,Qd2,Qf6,Nc1,Nf4,Ne2,g5,a4,a5,Kh2,Ke7,Ng3,Rag8,Nf5+,Bxf5,exf5,Qxf5,Qb2,g4,h4,g3+,fxg3,Qg4,gxf4,Qxh4+,Kg1,e4,Qb5,f5,Qc6', 'Rxg2+,Kxg2,Rg8#', 'https://lichess.org/training/njstW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NjtaL', 'Rapid', 'aaabbb111222', 1783, 'Chessmoskito', 2031, 'e4,g6,d4,Bg7,Nf3,e6,e5,Ne7,Bd3,b6,Be4,c6,Be3,d5,Bd3,O-O,Qd2,Nd7,Bh6,c5,Bxg7,Kxg7,c4,Bb7,Be2,dxc4,Nc3,Nf5,O-O-O,cxd4,Nxd4,Bd5,Nxf5+,gxf5,Nxd5,exd5,Qxd5,Qg5+,Kb1,Nc5,Bxc4,Rad8,Qf3,Ne6,h4,Qg6,Ka1,Nd4,Qc3,Ne6,g4,f4,h5,Qe4,h6+,Kg8,Rhe1,Qg6,Bxe6,Qxe6,g5,Rc8,Qd4,Rc4,Qd8', 'Rc1+,Rxc1,Rxd8', 'https://lichess.org/training/NjtaL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NjU53', 'Rapid', 'mixmoksik', 2077, 'impathak', 2188, 'e4,c5,c4,e5,Nc3,Nc6,Nge2,Nf6,g3,a6,Bg2,Be7,O-O,O-O,f4,exf4,Nxf4,Nd4,d3,d6,Nfd5,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/NjU53');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NJULJ', 'Rapid', 'ivanmuts', 1854, 'flow48', 1894, 'e4,c6,c4,d6,Nc3,e5,Nf3,Bg4,Be2,Nd7,O-O,Be7,d4,Ngf6,Bg5,Bxf3,Bxf3,h6,Bxf6,Bxf6,dxe5,Nxe5,Qe2,Qa5,Rfd1,O-O-O,Rab1,Qb4,a3,Qxc4,Qxc4,Nxc4,b4,Nxa3,Rb3,Bxc3,Rxc3,Nb5,Rb3,Rhe8,Rbd3,a6,g3,Kc7,Kg2,g6,h4,f5,exf5,gxf5,Bh5,Re5,Bf7,Rd7,Bc4,d5,Ba2,Rg7,Bb1,f4,Kh3,fxg3,fxg3,Re2,Rf1,Rge7,Rdf3,Rb2,Rf7,Re2,Bd3,Nc3', 'Bxe2,Rxf7,Rxf7+', 'https://lichess.org/training/NJULJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NjVlX', 'Rapid', 'Yura_Bovt', 1776, 'Ahmed207', 1782, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Bf5,Nf3,e6,d4,Bd6,c4,Ne7,c5,Bc7,O-O,O-O,Nc3,b6,Bc2,Bxc2,Qxc2,Nd7,Ng5,Ng6,f4,bxc5,dxc5,Nxc5,f5,Ne5,fxe6,g6,exf7+,Nxf7,Nxf7,Rxf7,Rxf7,Kxf7,Qf2+,Kg7,Qxc5', 'Bb6,Be3,Bxc5', 'https://lichess.org/training/NjVlX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('njX2b', 'Rapid', 'PoppaSmurf', 1662, 'drbutch', 1793, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,e4,dxe4,Nxe4,Qxd4,Nxf6+,Qxf6,Qf3,Qxb2,Rd1,O-O,Bd3,Qxa2,Nh3,Nc6,Ng5,g6,Qh3,h5,Nxf7,Kxf7,Qg3,Rg8,Qf3+,Kg7,O-O,Ne5,Qe4,Nxd3,Rxd3,Kh7,Rg3,Qa5,Re1,Qf5,Qh4,Rg7,Rg5,Qf6', 'Rxh5+,gxh5,Qxf6', 'https://lichess.org/training/njX2b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Njx82', 'Rapid', 'zenmodevibe', 1822, 'mercurio5', 1853, 'e4,c5,Nf3,Nc6,d3,d6,g3,Bg4,Bg2,Nd4,Nbd2,Qd7,h3,Bh5,O-O,Nf6,Re1,e5,c3,Nxf3+,Nxf3,Be7,Qe2,O-O,a4,a5,Be3,Rad8,Reb1,Bxf3,Qxf3,d5,exd5,Nxd5,Qxd5,Qxd5,Bxd5,Rxd5,d4,exd4,cxd4,cxd4,Bd2,Bf6,b4,axb4,Bxb4,Re8,Ra3,Rd7,Rd1,g6,a5,Kg7,Bc5,Be7,Bxd4+', 'Rxd4,Rxd4,Bxa3', 'https://lichess.org/training/Njx82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('njxGC', 'Rapid', 'PetrSha', 1866, 'Mbhl973', 1841, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,e6,Bg5,Be7,O-O,Nc6,c3,h6,Bh4,d5,exd5,exd5,Bb5,O-O,Re1,Re8,Nbd2,Bf5,d4,Qb6,Bxc6,bxc6,b3,cxd4,Nxd4,Bg4,Qc1,c5,N4f3,c4,b4,Bxf3,Nxf3,Ne4,Bxe7,Qxf2+,Kh1,Rxe7,Nd4,Re5,Re2,Ng3+,hxg3', 'Rh5#', 'https://lichess.org/training/njxGC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('njXO9', 'Rapid', 'mihbell', 1693, 'Trianovitz', 1704, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,Bf4,e6,e3,Bd6,Ne5,Qc7,c5,Bxe5,Bxe5,Qe7,Bd3,Bg6,Ne2,Nbd7,Bd6,Qd8,Nf4,Qa5+,Ke2,Ne4,Nxg6,hxg6,Bxe4,dxe4,f3,b6,cxb6,Nxb6,b4,Qd5,Bc5,Nd7,Rc1,exf3+,gxf3,Nxc5,Rxc5,Qxa2+,Ke1,Rxh2,Rxh2,Qxh2,Rxc6,Rb8,Rc4,Qa2,Qc1,a5,Rc8+,Rxc8,Qxc8+,Ke7,Qc7+,Kf6,Qe5+,Ke7,Qc7+,Kf6,Qd8+,Kf5,Qxa5+,Qd5,Qxd5+,exd5,e4+,dxe4,fxe4+', 'Kxe4,b5,Kd5', 'https://lichess.org/training/njXO9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('njyXF', 'Rapid', 'Bakhtin_AO', 2042, 'neihaos', 1994, 'd4,d5,c4,c6,Nf3,Nf6,g3,dxc4,Qc2,b5,a4,Bd7,Bg2,e6,Bf4,Bb4+,Nc3,Nd5,Bd2,a5,O-O,O-O,e4,Nxc3,Bxc3,Bxc3,Qxc3,Na6,axb5,cxb5,Rxa5', 'b4,Qxc4,Qxa5', 'https://lichess.org/training/njyXF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NjzBJ', 'Blitz', 'FM tka3', 2384, 'WGM vwnv7', 2557, 'c4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Bb4,Bg5,Bxc3+,bxc3,O-O,f3,d6,e4,Qe7,Be2,Be6,O-O,Na5,Qa4,b6,Rfe1,Qd7,Qc2,Ne8,Rad1,Bxc4,Nf5,Bxe2,Qxe2,f6,Bf4,Qe6,Rd5,g6,Nd4,Qf7,Bh6,Ng7,Nb3,Nxb3,axb3,Rfe8,c4,a5,Qd3,Re7,Rd1,Rae8,h3,Ne6,Be3,Nc5,Bxc5,bxc5,Qc3,Rb8,Ra1,f5,exf5,gxf5,Qd3,Rf8,Rxa5,Re1+,Kf2,Qe7,Ra2,f4,g3,fxg3+,Kg2,Re8,Rd2,Re3,Qf5,Re2+,Kxg3,Qg7+,Qg4,Rxd2,Rxd2,Re3,Ra2,Qxg4+,hxg4,Rxb3,Ra8+,Kg7,Rc8,Rc3,Rxc7+,Kf6,Rxh7,Rxc4,Rh6+,Ke5,g5,Rc1,g6,Rg1+,Kf2,Rg5,Ke3,Kf5,g7,d5', 'Rh5,Rxh5,g8=Q', 'https://lichess.org/training/NjzBJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nJzzq', 'Rapid', 'gmwasave123', 1916, 'Sergey2978', 1944, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,O-O,d4,exd4,cxd4,Bb6,e5,Ne8,d5,Ne7,Nc3,d6,e6,c6,exf7+,Rxf7,dxc6,d5,Nxd5,bxc6,Nxe7+,Qxe7,Ng5,Nd6,Bxf7+,Nxf7,Nxf7,Qxf7,Be3,Bc7,Qb3,Be6,Qb7', 'Bxh2+,Kxh2,Qxb7', 'https://lichess.org/training/nJzzq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nk1cE', 'Rapid', 'Snaporaz', 1651, 'ggirafa68', 1721, 'd4,Nf6,Nc3,d5,f3,c6,e4,dxe4,fxe4,e6,Be3,Bb4,Ne2,Ng4,Qd3,Nxe3,Qxe3,O-O,O-O-O,a5,e5,b5,h4,Qb6,g4,Nd7,h5,Bxc3,Nxc3,c5,g5,Bb7,Rh2,a4,Bxb5,cxd4,Rxd4,Nc5,Rd6', 'Nb3+,cxb3,Qxe3+', 'https://lichess.org/training/nk1cE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NK2rf', 'Rapid', 'Loginov19510410', 1909, 'Ambitious', 1640, 'd4,Nf6,Bf4,e6,e3,b6,Nf3,Bb7,Nbd2,Be7,Bd3,d6,O-O,e5,dxe5,dxe5,Nxe5,O-O,Ng4,Nbd7,Qe2,Re8,Bg5,c5,Nxf6+,Nxf6,Rad1,Qc7,Bxf6,Bxf6,Qh5,h6,Qf5,Kf8,Nf3,c4,Be2,Bxb2', 'Rd7,Qxd7,Qxd7', 'https://lichess.org/training/NK2rf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nk8nv', 'Classical', 'Krjl626', 1759, 'sternstauner', 1827, 'e4,e6,d4,d5,exd5,exd5,a3,Bd6,Nc3,Nf6,Bg5,c6,h3,O-O,Qf3,Be7,O-O-O,Re8,Bd3,Be6,Nge2,Nbd7,Nf4,h6,Bh4,g5,Nxe6,fxe6,Bg3,Rf8,Qe3,Kg7,Qxe6,Re8,Qf5,Nf8,f4,Qd7,fxg5,Qxf5,Bxf5,hxg5,Be5,Rad8,g4,Bd6,Bxd6,Rxd6,h4,gxh4,Rxh4,Ng6,Bxg6,Kxg6,Rdh1,Kg5,Rh6,Rde6,Nd1,Nxg4,Rh7,R6e7,R7h5+,Kf4,Rf1+,Kg3,Rg5,Kh4,Rg6,Kh5,Rd6,Kg5,Nf2,Rf8', 'Nh3+,Kh4,Rxf8', 'https://lichess.org/training/Nk8nv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NK8ww', 'Rapid', 'shubhamsonu05', 1839, 'LuEi1504', 1752, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d3,h6,a3,d6,h3,Be6,Ba2,Bxa2,Rxa2,O-O,Nc3,a6,Be3,Bxe3,fxe3,b5,b4,Rb8,Nd5,a5,c3,Nxd5,exd5,Ne7,e4,c6,dxc6,Nxc6,Qd2,Qb6+,Kh1,f5,Raa1,fxe4,dxe4,Qc7,Nh4,axb4,cxb4,Ne7,Nf5,Nxf5,exf5,Rf6,Rac1,Qd7,Qd3,Rbf8,Rcd1,Rxf5,Rxf5,Rxf5,Qxd6', 'Rf1+,Kh2,Rxd1', 'https://lichess.org/training/NK8ww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nka3T', 'Classical', 'Areon', 1661, 'zdenek1', 1641, 'Nf3,Nc6,e4,e5,Bb5,Nd4,Nxd4,exd4,O-O,c6,Bc4,d5,exd5,cxd5,Re1+,Be6,Bb5+,Ke7,b3,a6,Ba3+,Kf6,Qf3+,Bf5,Bd3,Nh6,Bb2,Bc5,Bxf5,Nxf5,g4,g6,gxf5,gxf5,Kf1,Re8,Rxe8,Qxe8,Qxd5,Qb5+,d3,Qc6,Bxd4+,Bxd4,Qxd4+,Ke7,Qh4+,Kd7,Qxh7', 'Qh1+,Ke2,Re8+,Kd2,Qe1#', 'https://lichess.org/training/Nka3T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NKAiM', 'Rapid', 'LucaP_TheHall', 1810, 'MesSI10gAmER', 1796, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,h6,Nf3,e4,Qe2,Bf5,Nh4,Bh7,Nc3,Qe7,Ba6,Qe5,a3,Bd6,b4,Qg5,g3,Nd5,bxa5,Nxc3,dxc3,Qxa5,Bd2,O-O,Bb7,Rab8,Bxc6,Qe5,O-O,Rfc8,Bf4,Qxc3,Bxd6,Rxc6,Bxb8,Re6,Rfd1,g5,Rd8+,Kg7,Ng2,Qxa1+,Rd1,Qxa3,Qe3,Qb2,Bxa7,Qxc2,Ra1,Qb2,Bc5,Qxa1+,Ne1,Qb1,Bd4+,Kg6,Kg2,f6,Kh3,Kf7,Ng2,Qd1,g4,h5,gxh5,Qxh5+,Kg3,Bf5,f4,exf3,Qxf3,Qh3+,Kf2,Qxh2,Qxf5,Qd6,Qh7+,Ke8,Qg8+,Kd7,Qg7+,Re7,Qxf6,Qd5,Ne3,Qa2+,Kf3', 'Rf7,Qxf7+,Qxf7+', 'https://lichess.org/training/NKAiM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkaK5', 'Classical', 'kakkoi', 1651, 'ignacio_carache', 1711, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,O-O,a6,Be2,exd4,Nxd4,Ne5,Bf4,Nf6,Nc3,Be7,Bxe5,dxe5,Nf3,Bd6,Qd2,O-O,Rad1,Bg4,h3,Bxf3,Bxf3,Qe7,Rfe1,Rad8,Qe2,Bb4,Rxd8,Rxd8,Qe3,h6,Rd1,Rxd1+,Bxd1,Bxc3,bxc3,b6,Qd3,a5,Qa6,Nxe4', 'Qa8+,Kh7,Qxe4+', 'https://lichess.org/training/NkaK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKbsB', 'Blitz', 'impathegates', 1718, 'davidebxl', 1712, 'c4,d5,cxd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,e3,Bf5,Nf3,Nc6,b3,O-O-O,Bc4,Qe4,Bb2,e5,O-O,Bd6,Bxf7,g5,Nxg5,Qg4,Qxg4,Bxg4,Ne4,Rdf8,Nxd6+,cxd6,Bc4,h5,g3,Bh3,Rfe1,h4,d4,hxg3,fxg3,e4,d5,Ne5,Bxe5,dxe5,Rad1,Rf2,Re2,Rhf8,d6', 'Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/nKbsB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKcKh', 'Rapid', 'babafingo_35', 1747, 'tsintsi', 1721, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Bb5+,c6,Bd3,Nf6,O-O,Be7,Re1,O-O,h3,Bh5,c4,dxc4,Bxc4,Re8,Be3,Bb4,Nc3,b5,Bb3,Nbd7,Bc2,Nb6,a3,Bd6,b4,Nc4,g4,Nxe3,fxe3,Bg6,Bxg6,fxg6,e4,Bg3,Re2,Qc7,e5,Bh4,exf6,Qg3+,Rg2,Qxh3,Nxh4,Qxh4,fxg7,Kxg7,d5,cxd5,Qxd5,Rad8,Qxb5,Re3,a4,Rde8,Qd7+,R8e7,Qd4+,Kg8,Rf1,Re1,Qf2', 'Rxf1+,Qxf1,Re1', 'https://lichess.org/training/nKcKh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nkcKY', 'Rapid', 'freeboot', 1940, 'Roman_Lukashek', 1954, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,g3,fxg3,O-O,gxh2+,Kh1,Qe7,d3,Bf6,Nc3,Bxc3,bxc3,Nf6,Bg5,h6,Bh4,g5,Bg3,d6,Nd4,Nc6,Nf5,Bxf5,Rxf5,O-O-O,Qf3,Ne5', 'Bxe5,dxe5,Rxf6', 'https://lichess.org/training/nkcKY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKCXY', 'Rapid', 'Apolosquare33', 1792, 'adchoadhoc', 1865, 'd4,d5,c4,e6,cxd5,Qxd5,Nc3,Qd8,e4,Nf6,e5,Nd5,Bb5+,c6,Bd3,Bb4,Ne2,Qb6,Bc4,a5,a3,Be7,O-O,Qc7,Nxd5,cxd5,Bb5+,Nc6,Bd2,Qb6,a4,Bd7,Bf4,Bb4,Rc1,O-O,h4,h6,h5,Qc7,Qd3,Qd8,Qe3,Qh4,Bxh6,Qxh5,Bf4,Rfe8,Ng3,Qh8,f3,Kf8,Kf2,Ke7,Rh1,Qf8,Bg5+,f6,exf6+,gxf6,Rh7+,Kd8,Bh4,Kc8,Qh6', 'Qxh6,Rxh6,Bd2,Rh1,Bxh6', 'https://lichess.org/training/nKCXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NKDHy', 'Rapid', 'HappinessSecret', 1695, 'Arno1d', 1693, 'Nf3,d5,d4,Nf6,c4,c6,g3,e6,Bg2,Bd6,O-O,O-O,Re1,Nbd7,Nc3,Ne4,Nxe4,dxe4,Ng5,f5,Nxe4,fxe4,Bxe4,Nf6,Bc2,e5,d5,cxd5,cxd5,Bb4,Bd2,Bxd2,Qxd2,Qxd5', 'Bb3,Qxb3,axb3', 'https://lichess.org/training/NKDHy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nkDpA', 'Classical', 'zico229', 1735, 'thander2311', 1704, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,d6,Qf3,Nf6,Nxc6,Bg4,Qb3,bxc6,Bxf7+,Kf8,f3,Bd7,Be3,d5,exd5,cxd5,Bxd5,Rb8,Qc4,Bb5,Qd4,Qxd5,Qxd5,Nxd5,Bd2,Bf6,c3,Re8+,Kd1,Re2,Na3,Ba6,c4,Bxb2,Kxe2,Bxa3,Kf2,Bxc4,Rab1,Bc5+,Kg3,Bb6,Rhd1,Nf6,Bb4+,Kf7,Re1,Bxa2,Re7+,Kg6,Rbe1,c5,Bd2,Rd8,Bc1,h6,Bb2,c4,Bxf6,gxf6,Rb7,Kf5,Kh4,c3,Rh7,c2,Rxh6,Bf7', 'g4+,Kf4,Rxf6#', 'https://lichess.org/training/nkDpA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nke9j', 'Rapid', 'Abdosalah', 1894, 'jtg2016', 1925, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,Nc6,Be3,Qc7,Qd2,b5,Be2,Bb7,O-O,e6,Rad1,Be7,Bg5,b4,Na4,O-O,Bxf6,Bxf6,Nxc6,Qxc6,b3,d5,exd5,exd5,Qxb4,Rad8,Bd3,Rfe8,Qc5', 'Qxc5+,Nxc5,Bd4+,Kh1,Bxc5', 'https://lichess.org/training/Nke9j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkeBp', 'Rapid', 'GDZS', 1763, 'Petrovich1964', 1845, 'e4,e5,f4,d5,fxe5,dxe4,Nc3,Qh4+,g3,Qe7,Qe2,Be6,Nxe4,Nc6,Nf3,O-O-O,c3,Bg4,d4,f5,Bg5,Qe6,Bxd8,fxe4,Qxe4,Nxd8,Ng5,Qf5,Qe3,h6,Bd3', 'Qxg5,Qxg5,hxg5', 'https://lichess.org/training/NkeBp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nkepw', 'Classical', 'SharkMoves', 1809, 'IamBoneless', 2023, 'e4,c5,Nc3,Nc6,g3,Nf6,Bg2,e6,Nf3,d5,exd5,exd5,O-O,Bg4,d3,h6,Bf4,d4,Re1+,Be7,Ne4,O-O,Nxf6+,Bxf6,Qd2,g5,Be5,Bxf3,Bxf6,Qxf6,Bxf3,Qxf3,Re4,Rae8,Rae1,Rxe4,Rxe4,f5,Re6,Kg7,h4,Rf6,Re8,gxh4,gxh4,Rg6+,Kf1,Qh1+,Ke2,Qxh4,Qe1,Kf7,Kd1,Qg4+,Kd2,Qf4+,Kd1,Rg1,Qxg1,Kxe8,Qg6+,Kd7,Qf7+,Kd8,Qxb7,Ne5,Qb8+,Ke7,Qxa7+,Kf6,Qb6+,Kg5,Qd8+,Kg4,Qg8+,Kf3,Qd5+,Kg4,Qg8+,Kh3,Qg1,Qg4+,Qxg4+,Kxg4,a4,h5,a5,h4,a6,Nc6,Ke2,Kf4,Kf1,Kf3,Kg1,h3,c3,dxc3,bxc3,Ke2', 'd4,cxd4,cxd4,Nxd4,a7,Nf3+,Kh1,Kxf2,a8=Q', 'https://lichess.org/training/Nkepw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NKFah', 'Classical', 'Lahuina', 1782, 'manikantabarla', 1934, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,a3,d5,exd5,Nxd5,b4,Bb6,Bb2,Bg4,Nbd2,Nd4,Bxd5,Qxd5,c4,Nxf3+,Nxf3,Bxf3,gxf3,Qc6,c5,Bxc5,bxc5,Qxc5,Rc1,Qd6,d4,exd4,Qxd4,Qxd4,Bxd4,c6,Kh1,Rfd8,Be3,Rd3,a4,a6,a5,Rad8,Rb1,R8d7,Rfc1,f6,Kg2,R3d5,Rc5,Rd3,f4,Kf7,Rc2,R3d5,Rcb2,Rb5,Rxb5,axb5,a6,bxa6,Ra1,Ke6,Rxa6,Kd5,Rb6,f5,Kf3,Rd6,h4,Kc4,Ke2,h5,Bd2,Rf6,Rb7,c5,Rc7,Rd6,Be3,Rd5,Rxg7,b4,Rc7,b3,f3', 'b2,Rb7,Kc3', 'https://lichess.org/training/NKFah');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKFlI', 'Bullet', 'Leillo', 2268, 'FM kasparovsabe', 2365, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nc3,Ne7,Nge2,c6,Bg5,f6,Bh4,Bf5,f3,Qc7,g4,Bxd3,Qxd3,Bxh2,O-O-O,Bf4+,Nxf4,Qxf4+,Kb1,Ng6,Rde1+,Kf7,Ne2,Qd6,Bg3,Qd7,f4,Na6,f5,Ne7,Nf4,Rae8,Re6,Nc7,Rhe1,Nc8,Qa3,a6,Qa5,g5,Rxe8,Rxe8,Rxe8,Kxe8,Nh5,Kf7,Qxc7,Qxc7,Bxc7,Na7,a4,Nc8,Bd8,Nd6,Bxf6,Ne4,Be5,Nf2,Nf6,b5,axb5,axb5,b3,Ne4,Kb2', 'Nxf6,Bxf6,Kxf6,Kc1,h5', 'https://lichess.org/training/nKFlI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkFNL', 'Rapid', 'LarryNgo', 1656, 'luis_lopez79', 1669, 'Nf3,d5,e4,d4,d3,Nc6,c3,e5,cxd4,exd4,Be2,Bc5,O-O,a6,Nbd2,h6,Nc4,g5,a3,Nf6,b4,Ba7,Qb3,Nh7,Nce5,Nxe5,Nxe5,Be6,Qa4+,Kf8,Bh5,Qf6,Nd7+,Bxd7,Qxd7,Bb6,Bb2,Kg7,f4,Qe6,Bxd4+,Bxd4+,Qxd4+,f6,fxg5,Nxg5,h4,Rhd8,Qe3,Nf7,Kh1,Rd5,Bxf7,Kxf7,Qxh6,Rxd3,Rf2,Rg8,Rc1,c6,Rcf1,Rh3+,gxh3', 'Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/NkFNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKGMt', 'Rapid', 'TimeL0rd101', 1953, 'DavidUK', 1903, 'd4,f5,e4,fxe4,Qh5+,g6,Be2,Nf6,Qh4,Nc6,Bg5,Bg7,c3,d5,Qg3,O-O,Nd2,Qd6,Bf4,e5', 'dxe5,Qe7,exf6', 'https://lichess.org/training/nKGMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkHOw', 'Rapid', 'Slushyy', 1760, 'Mikybomber', 1727, 'd4,g6,Nc3,Bg7,e4,b6,g3,Bb7,Bg2,Nf6,e5,Bxg2,exf6,Bxf6,Bf4,Bxh1,Nge2,Bf3,Qd3,Bxe2,Qxe2,Nc6,Nd5,d6', 'Nxf6+,Kf8,Bh6#', 'https://lichess.org/training/NkHOw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NKJr2', 'Rapid', 'saibayman', 1930, 'markinhox', 1954, 'd4,e5,d5,d6,e4,Nf6,Nc3,Be7,h4,O-O,Qf3,Bg4,Qg3,Qd7,f3,Nh5,Qxg4,Qxg4,fxg4,Ng3,Rh3,Na6,Rxg3,Bxh4,Nge2,Bxg3+,Nxg3,Nb4,Bd3,h6,a3,Nxd3+,cxd3,a5,Be3,a4,Nb5,Rac8,Nf5,Kh7,O-O-O,c6,Nbxd6,Rb8,dxc6,bxc6,Rh1,Rb3,Kc2,Rfb8,Nxf7,Rxb2+,Kc3', 'R8b3+,Kc4,Rc2#', 'https://lichess.org/training/NKJr2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkjUu', 'Classical', 'vinodkumar1988', 1724, 'Misho810', 1693, 'd4,e6,c4,c5,d5,exd5,cxd5,d6,Nf3,a6,e4,Nf6,Bd3,Bg4,Nbd2,Nbd7,Qb3,b5,Qc2,c4,Be2,Be7,b3,Bxf3,Nxf3,cxb3,axb3,Nc5,O-O,Nfxe4,Bd3,Nxd3,Qxd3,Nc5,Qd4,O-O,Bb2,Bf6,Qd2,Nxb3,Qc2,Nxa1,Rxa1,Bxb2,Qxb2,Qb6,Nd4,b4,Nc6,a5,Re1,b3,Re3,a4,Qb1,b2', 'Ne7+,Kh8,Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/NkjUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKKtS', 'Rapid', 'Fabio_magagnin57', 1793, 'Poula96', 1686, 'd4,Nf6,f3,d5,e4,dxe4,Nc3,exf3,Nxf3,Bg4,h3,Bxf3,Qxf3,Nc6,Qf2,e6,Be3,Bb4,Bd3,Qd6,O-O,h6,Ne4,Nxe4,Qxf7+,Kd8,Bxe4,Qe7,Bxc6,bxc6,Qf3,Kd7,c3,Bd6,c4,Raf8,Qe2,g5,Rad1,h5,c5,Bg3,d5,cxd5,Qb5+,c6,Qb7+,Bc7,Bd4,Rb8,Qxa7', 'Ra8,Qxc7+,Kxc7', 'https://lichess.org/training/nKKtS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkKu5', 'Rapid', 'leozimshw', 1648, 'ubeytsendur5621', 1708, 'e4,a6,Nf3,h6,Nc3,Nc6,Bc4,e5,a3,Nf6,h3,Bc5,O-O,d6,d3,O-O,Be3,Bxe3,fxe3,Na5,Ba2,c5,d4,exd4,exd4,cxd4,Qxd4,Nc6,Qd3,Qe7,Rad1,Rd8,Rfe1,Ne5,Nxe5,Qxe5,Nd5,Be6,Nxf6+,Qxf6,Bxe6,Qxe6,c3,b5,Qd5,Qe5,Qxe5,dxe5,Rd5,f6,Red1,Rxd5,Rxd5,Kf7,Kf2,Ke6,Ke3,f5,g3,Rc8,Kd3,Rc4,Rd8,Rxe4,g4,g6,gxf5+,gxf5,Ra8,Ra4,Rb8,f4,Rb6+,Kf5,Rxh6,f3,Ke3,e4,Rh4,Kg5,Rg4+,Kh5,Rf4,a5,Rg4,Rc4,Rf4,Kg5,h4+,Kh5,Rf5+,Kxh4,Rxb5,a4,Rb4', 'Rxb4,cxb4,Kg3', 'https://lichess.org/training/NkKu5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKKuM', 'Rapid', 'javidrox', 1944, 'isourg', 1966, 'e4,d6,d4,Nd7,c4,e5,Nf3,h6,Nc3,Ngf6,Be3,a6,dxe5,dxe5,a3,Bd6,b4,b6,Be2,Bb7,Qc2,O-O,O-O,Re8,Rfd1,Qe7,Nd5,Qf8,Rac1,Rad8,Nh4,Nxd5,cxd5,Nf6,Nf5,Rc8,f3,a5,Nxd6,cxd6,Qb3,axb4,Qxb4,Nd7,Bxb6,Nxb6,Qxb6,Rxc1,Rxc1,Rb8,Qc7', 'Rc8,Qxb7,Rxc1+', 'https://lichess.org/training/nKKuM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nkkxw', 'Rapid', 'hamzanova', 1728, 'soumita55', 1719, 'e4,e6,d4,d5,Nc3,Bb4,exd5,exd5,Nf3,Nf6,Bd2,Nc6,Bb5,Bd7,a3,Ba5,b4,Bb6,Be3,Qe7,O-O,O-O,Re1,Rfe8,Bg5,Qd6,Bd3,Nxd4,Nxd4,Bxd4,Bxh7+,Nxh7,Rxe8+,Rxe8,Qxd4,Nxg5,Qxd5,Bc6,Qxg5,Qd4,Qg3,Re6,Rd1', 'Qxd1+,Nxd1,Re1#', 'https://lichess.org/training/nkkxw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NKllI', 'Blitz', 'domhabs', 1571, 'gingeleskie', 1511, 'd3,c5,e4,g6,Nf3,Bg7,Be2,d6,h4,Nf6,h5,Nxh5,Rxh5,gxh5,Nc3,Nc6,Nh4,Bg4,Nf5,Bxf5,exf5,h4,Bg5,Bf6,Bxf6,exf6,Nd5,Qa5+,c3,O-O-O,Qd2,Rhg8,Bf3,h3,Kf1,hxg2+,Bxg2,Ne5,Nxf6,Rh8,f4,Nd7,Nd5,h5,Qc2,h4,Qb3,h3', 'Ne7+,Kc7,Qxb7#', 'https://lichess.org/training/NKllI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKm5j', 'Blitz', 'aashetty', 2642, 'GM yackobaby', 2622, 'c4,Nf6,g3,c6,Bg2,d5,Nf3,Bg4,cxd5,Bxf3,Bxf3,cxd5,O-O,Nc6,d3,e6,Nc3,Be7,Bf4,O-O,Bg2,Bd6,Bxd6,Qxd6,Rc1,Rac8,Qa4,a6,Qb3,b5,a4,Nd4,Qd1,b4,Na2,Rxc1,Nxc1,Rc8,e3', 'Rxc1,Qxc1,Ne2+,Kh1,Nxc1', 'https://lichess.org/training/nKm5j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nkmk8', 'Blitz', 'EndgameMagician', 2112, 'CM RobertoRochaMAO', 2203, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,Bc4,Nf6,h3,Bd7,O-O,O-O,Bb3,a6,Re1,Rc8,Nd5,Nxd5,exd5,Ne5,Qe2,b5,c3,Re8,a3,Nc4,Bg5,Bf6,Bxf6,exf6,Qc2,Bf5,Nxf5,gxf5,Bxc4,Rxc4,Qxf5,Re5,Rxe5,fxe5,Re1,Rf4,Qh5,Qf6,f3', 'Rh4,Qg4+,Rxg4', 'https://lichess.org/training/nkmk8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkmSA', 'Rapid', 'victorantonio', 2015, 'saprvade', 2101, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qa4,Nd5,Qb3,Nb6,Bc4,e6,O-O,Na5,Qd3,Naxc4,Bg5,Be7,Bxe7,Qxe7,b3,Na5,c4,Nc6,Nc3,a6,Ne4,O-O,Nf6+,Kg7,Qe3,d6,Qxb6,dxe5,Ne4,f5,Ng3,e4,Nd4,Ne5,f4,Nd3,Nde2,Rf6,Qd4,Bd7,h4,Bc6,h5,Rd8,Qc3,Qc5+,Kh2,Qe3,h6+,Kf7,Rad1,g5,Nh5,Rxh6', 'Qg7+,Ke8,Qxh6', 'https://lichess.org/training/NkmSA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKO7P', 'Blitz', 'Pimentosvysky', 2227, 'Xhezairelezi', 2261, 'd4,d5,Bf4,Nf6,e3,Bf5,c4,e6,Qb3,b6,Nf3,Bd6,Ne5,O-O,Nc3,c6,Qa4,dxc4,Qxc4,Nd5,Bg3,b5,Qb3,Bb4,a3,Qa5,Rc1,Be7,e4,Nxc3,Rxc3,Bxe4,f3,Bd5,Qc2,b4,Nc4,Bxc4,Rxc4,bxa3+,Kf2,a2,Bd3,a1=Q,Bxh7+,Kh8,Rxa1,Qxa1,d5,cxd5,Rc7,Bf6,Bd6,Rd8,Rxf7,Na6,Ba3,Bd4+,Kg3,Qe1+,Kh3,Bf6,Rxf6,gxf6,Be7,Qe5,Qg6,Rf8,Qh6,Qg5,Bxf6+,Qxf6', 'Bg6+,Kg8,Qh7#', 'https://lichess.org/training/nKO7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKPGZ', 'Rapid', 'engineer_of_chess', 2100, 'Buldoser1337', 2262, 'e4,e5,Nf3,Nc6,c3,d5,Qa4,Qd6,d3,Nf6,Be2,a6,exd5,Nxd5,d4,exd4,Nxd4,Nb6,Qc2,Nxd4,cxd4,Qxd4,Qxc7,Bd6,Qc2,Qe5,Nc3,Bf5,Qb3,Bc5,O-O,O-O,Bd2,Rad8,Rad1,Bd4,Bf3,Be6,Qb4,Nc4,Rfe1,Bc5,Qxb7,Bxf2+,Kxf2,Rxd2+,Rxd2,Qc5+,Ke2', 'Qe3+,Kd1,Qxd2#', 'https://lichess.org/training/nKPGZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkpWO', 'Blitz', 'aiadiv', 1762, 'Rohrkrepierer', 1733, 'e4,d6,d4,g6,Nf3,Bg7,c3,Nf6,Bd3,Bg4,O-O,Nc6,h3,Bxf3,Qxf3,e5,d5,Ne7,Be3,c5,dxc6,bxc6,c4,O-O,b3,Qc7,Nd2,Rad8,Bc2,Nh5,Rad1,f5,exf5,Nxf5,Qe2,Nf6,Bg5,Qf7,Bxf6,Qxf6,f4,Nd4,Qd3,Nxc2,Qxc2,Qh4,fxe5,Bxe5,Qd3,Qg3,Qxg3,Bxg3,Nf3,d5,cxd5,cxd5,Rd3,Bc7,Rfd1,Bb6+,Kh1,d4,Nxd4,Rf2,Ne6,Rxd3,Rxd3,Rxa2,Nf4,Kf7,Nd5,Ke6,Nxb6,axb6,Rc3,Rb2,Rc6+,Kd5,Rxb6,Kc5,Rb7,Kd4,b4,Ke3,Rxh7,Kf4,Rg7,g5,Rb7', 'Kg3,Rf7,Rb1+,Rf1,Rxf1#', 'https://lichess.org/training/NkpWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nkQX2', 'Classical', 'BBQ_Sauce', 1806, 'Comrade_Yoza', 1765, 'd4,d5,e4,dxe4,Nc3,Nc6,Nxe4,Nxd4,c3,Ne6,Qxd8+,Nxd8,Bc4,Bf5,Ng5,a5,N1f3,c6,Bf4,b5,Nxf7,Nxf7,Bxf7+,Kxf7,Rd1,Nf6,h4,Ng4,Rd4,c5,Rd5,e6,Rd7+,Kf6', 'Bg5+,Kg6,h5#', 'https://lichess.org/training/nkQX2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkRCU', 'Rapid', 'tj_1990', 2073, 'rashid2212', 2139, 'd4,d5,c4,e6,Nc3,Nf6,e3,Nbd7,Nf3,c5,cxd5,exd5,dxc5,Nxc5,Be2,Be7,b4,Nce4,Bb2,Bxb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/NkRCU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKteE', 'Rapid', 'Neprostaya', 1834, 'su-85', 1858, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,c3,Bg4,h3,Bh5,O-O,Nf6,Re1,Be7,d4,exd4,cxd4,O-O,Nbd2,d5,exd5,Nxd5,b3,Bb4,Qc2,Bxf3,Nxf3,Bxe1,Nxe1,Qd7,Ba3,Rfe8,Nf3,f6,Rc1,Re6,Nh4,Nf4,Qd2,Ne2+,Kh2,Nxc1,Bxc1,Rae8,Nf5,g6,Nh6+,Kg7,Ng4,Qd6+,g3,g5,h4,Re2,Qa5,h6,hxg5,fxg5,Ne5,Rxf2+,Kh3,Qe6+,Ng4,Qf5,Qxc7+,Kg8,Qxc6,Rc2,Qxe8+,Kg7,Ba3', 'Qf1#', 'https://lichess.org/training/nKteE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nkTjL', 'Rapid', 'Blackpresident', 1768, 'shyamsunderjoshi', 1891, 'd4,g6,Nf3,Bg7,e3,b6,Bd3,e6,Nbd2,Ne7,O-O,Bb7,c3,d6,e4,Nd7,Re1,e5,d5,O-O,h3,f5,Nh2,fxe4,Bxe4,Nc5,Bf3,Bxd5,Bxd5+,Nxd5,Ndf3,Nf4,Bxf4,Rxf4,Nxe5,Bxe5,Qd5+,Kg7,Ng4,Rf5,Nxe5,dxe5,Qc6,Rb8,Rad1,Qf8,f3,Rc8,b4,Rf6,Qd5,Na4,Qxe5,Nb2,Rd7+,Kg8,Qe7,Rf7,Qe6,Kg7,Rxf7+,Qxf7,Qxc8,Nd3,Rd1,Ne5,f4,Qxf4,Qxc7+,Kh6,Rf1', 'Nf3+,Kh1,Qxc7', 'https://lichess.org/training/nkTjL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NKuHs', 'Rapid', 'Kimuradical', 1762, 'KozakMukola', 1774, 'e4,Nc6,Nf3,b6,Nc3,Bb7,d4,e6,Qe2,a5,d5,Nce7,dxe6,dxe6,Be3,Ba6,Qd1,Qxd1+,Rxd1,Bxf1,Kxf1,Nf6,h3,g6,Bg5,Bg7,e5,Nfd5,Nxd5,Nxd5,g3,c5,a3,h6,Bc1,O-O,c4,Ne7,Rd7,Nc8,Bf4,g5,Be3,Ra7,Rxa7,Nxa7,Kg2,Rd8,h4,g4,Nh2,h5,Bf4,Nc6,Re1,Kh7,f3,gxf3+,Nxf3,Kg6,Re2,Rd3,g4,hxg4,Nh2,Rh3,Bg3,Nd4,Re4,Kf5,Rxg4', 'Rxh2+,Bxh2,Kxg4', 'https://lichess.org/training/NKuHs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkVCR', 'Classical', 'Legeric', 1659, 'IlyaKurov', 1604, 'd4,Nf6,c4,g6,Nc3,d6,Nf3,Bg7,Bf4,Nc6,e3,e6,Bd3,d5,O-O,O-O,cxd5,Nxd5,Nxd5,Qxd5,a3,Re8,h3,Qa5,b4,Qd5,Bxc7,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Rxe5,e4,Qd8,f4,Rh5,Be2,Qb6+,Rf2,Rh4,Qd2,Be6,Rf1,Rd8,Qc3,Rxf4,Qg3,Rxf2,Qxf2,Qxf2+,Rxf2,f5,Bf3,b6,Re2,Bc4,Re1,fxe4,Bxe4,Re8', 'Bd5+,Kf8,Rxe8+,Kxe8,Bxc4', 'https://lichess.org/training/NkVCR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NKvR0', 'Rapid', 'Avslugin80', 2458, 'Cavilador', 2321, 'd4,e6,Nf3,f5,c4,Nf6,g3,b6,Nc3,Bb4,Bd2,Bb7,a3,Bxc3,Bxc3,d5,Bg2,Ne4,O-O,Nxc3,bxc3,Nd7,cxd5,exd5,Qb3,O-O,a4,Kh8,a5,c5,dxc5,Nxc5,Qb4,Ne4,Nd4,Qd6,Rfd1,Qxb4,cxb4,Nc3,Rd3,Rac8,a6,Ba8,Rc1,Na2,Rb1,Rc4,b5,Nc3,Re1,g6,h4,Rfc8,h5,Rb4,Rc1,Rxd4,Rdxc3,Rdc4,Rxc4,Rxc4,Rxc4', 'dxc4,Bb7,c3', 'https://lichess.org/training/NKvR0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkVU7', 'Rapid', 'CaiqueMartinsBRX', 1678, 'Henken90', 1662, 'e4,e5,Bc4,Bc5,c3,d6,Nf3,Nc6,d4,Bb6,d5,Nce7,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,Bg5,Nxe4,Bxe7,Qxe7,Nfd2,Nxf2,Rxf2,Bxf2+,Kxf2,Qf6+,Kg1,O-O,Ne4,Qg6,Nbd2,c6,dxc6,bxc6,b4,d5,Nc5,Rfe8,Nf3,e4,Nh4,Qg5,g3,e3,Na6,e2,Qe1,Qe3+,Kg2,Re4,Nf5,Qg5,Nd6,Re3,Rc1,d4,cxd4,Qd5+,Kf2,Qf3+,Kg1,Rd8,Nc4,c5,Nxe3,Qxe3+,Kg2,cxd4,Qf2,Qxc1,Qxe2,d3,Qe7,Qc2+,Kh3,Rf8,Nc5,d2,Nd7,h6,Qxf8+,Kh7,Qxf7,d1=Q', 'Nf6+,Kh8,Qe8#', 'https://lichess.org/training/NkVU7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkWGm', 'Rapid', 'Gianuzio', 1752, 'MauroG_26', 1748, 'c4,Nf6,Nf3,b6,g3,Bb7,Bg2,e6,d4,d5,cxd5,Bxd5,Nc3,Bb7,O-O,Bb4,Qa4+,Nc6,Ne5,Bxc3,bxc3,O-O,Bxc6,Bxc6,Qxc6,Nd5,Ba3,Re8,e4,Nf6,f3,h5,Bc1,Nh7,Qd7,Qf6,Bd2,h4,Ng4,Qg6,Qxc7,f5,exf5,exf5,Ne5,Qh5,Qc4+,Kf8,Nd7+,Ke7,Ne5,hxg3,hxg3,Rac8,Qb4+,Kf6,Qd6+,Re6,Nd7+,Kf7,Qf4,Rh8,Ne5+,Rxe5,Qxe5,Ng5,Bxg5', 'Qh2#', 'https://lichess.org/training/NkWGm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nKyKH', 'Classical', 'josemala', 1878, 'Jeanderdenker', 1975, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,O-O,Be7,Be3,O-O,f4,Nc6,Nb3,e5,f5,b5,Bf3,Bb7,Qe2,b4,Na4,Nd7,a3,a5,Rfd1,Ba6,Qf2,Rb8,axb4,Nxb4,Nc3,Nd3,cxd3,Rxb3,d4,exd4,Bxd4,Bf6,Nd5,Ne5,Bb6,Qb8,Nxf6+,gxf6,Bxa5,Rxb2,Qg3+,Kh8,Bc3,Rg8,Qh3,Rb3', 'Bxe5,dxe5,Rxa6', 'https://lichess.org/training/nKyKH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NkZQw', 'Blitz', 'GM JacobAagaard', 2424, 'ajn___93', 2169, 'c4,e5,Nc3,Bb4,Nd5,Bc5,e3,Nf6,Nf3,e4,Ng5,Nxd5,Nxe4,Nxe3,dxe3,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Bd3,d6,O-O,Bf5,Rad1,Nc6,Nc3,Bxd3,Qxd3,Qh4,f4,Rae8,Nd5,Qd8,e4,Ne7,Nc3,Ng6,Qg3,Qh4,Qf3,b6,Rd5,Ne7,Rh5,Qf6,Kh1,g6,Rh3,Nc6,b3,Nd4,Qf2,Ne6,Nd5,Qg7,f5,Ng5,Rh4,Nxe4,Qc2,gxf5,Rxf5,Ng5,h3,Re1+,Kh2,h6,Rxg5,hxg5', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/NkZQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NL0Hl', 'Rapid', 'Firsin', 1602, 'Mr_23', 1656, 'e4,c6,Nf3,d6,d4,b6,Nc3,Bb7,Bd3,Nd7,Be3,Qc7,Ng5,h6,Qh5,g6,Qh4,Bg7,Nxf7,Kxf7,d5,Bxc3+,bxc3,cxd5,exd5,Qxc3+,Ke2,Bxd5,Bd4,Qc6,Bxh8,Bxg2,Rhg1,Bf3+,Kd2,Bh5,Qf4+,Ngf6,Bxf6,Nxf6,Be4,Qc4', 'Bxg6+,Bxg6,Qxc4+', 'https://lichess.org/training/NL0Hl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nl1Bl', 'Classical', 'changiz88', 1730, 'crocemaltese', 1727, 'e4,e5,Nf3,d6,h3,f5,exf5,Bxf5,Bc4,Qf6,Nc3,c6,d3,Ne7,O-O,d5,Bg5,Qe6,Bb3,h6,Bxe7,Bxe7,Re1,Bd6,Nd4,Qg6,Nf3,Nd7,Nh4,Qg5,Nxf5,Qxf5,Ne2,O-O-O,Ng3,Qg5,Qh5,Qxh5,Nxh5,g5,c3,a5,d4,e4,c4,Nb6,c5,a4,Bd1,Bxc5,dxc5,Nc4,Bxa4,Nxb2,Bc2,Nc4,a3,Rde8,Ng3,e3,fxe3,Nxe3,Bf5+,Kc7,a4,Re5,Bd3,d4,Ne4,Rhe8,Nd6,R8e7,Rab1,Rxc5,Nxb7,Rc3,Bf1,d3,Bxd3,Rxd3,Nc5,Rd2', 'Rb7+,Kd6,Rxe7', 'https://lichess.org/training/nl1Bl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nl1X7', 'Blitz', 'Ahmedzeyat2600', 2344, 'Catalan-Bishop', 2403, 'e4,c5,Nf3,e6,d3,Nc6,g3,Nf6,Bg2,d6,O-O,Be7,Nbd2,O-O,Re1,Qc7,h4,Re8,a4,Bf8,c3,h6,Nc4,e5,Qc2,Be6,Ne3,d5,exd5,Nxd5,Nc4,Bg4,Nh2,Be6,Nf3,Bg4,Nfxe5', 'Nxe5,Nxe5,Rxe5,Rxe5,Qxe5', 'https://lichess.org/training/Nl1X7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nl5Qj', 'Rapid', 'lazioricor', 1611, 'Mithra77', 1650, 'e4,d5,Nf3,dxe4,Ng5,Nf6,d3,exd3,Bxd3,Nc6,Be3,h6,Nf3,Bg4,Nc3,a6,Qd2,Qd7,O-O-O,O-O-O,h3,Bxf3,gxf3,Nd5,Nxd5,Qxd5,Bf5+,e6', 'Qxd5,Rxd5,Rxd5', 'https://lichess.org/training/nl5Qj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nl60l', 'Blitz', 'Talissimo', 2249, 'iHusky', 2244, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,Nc6,Qd2,O-O,Bc4,Bd7,O-O-O,Rc8,Bb3,Nxd4,Bxd4,b5,Nd5,Nxd5,Bxg7,Kxg7,exd5,a5,a3,Kg8,h4,b4,axb4,axb4,h5,Bf5,hxg6,Bxg6,Qxb4,Rc5,Rd4,Qa8,Kd2,Rb8,Qa4,Ra5,Qc4,Rc5,Qa4,Ra5,Qc4,Rc8,Qb4,Ra1,Rxa1,Qxa1,Rc4,Rxc4,Qxc4,Qxb2,Qc8+,Kg7,Qc3+,Qxc3+,Kxc3,Kf6,Kd4,e5+,dxe6,fxe6,c4,Bf7,g4,h6,Ke3,Kg5,Ba4,e5,Bb5,Bg6,Bc6,Bc2,Be4,Bb3,Bd5,Bd1,Ke4,Bc2+,Ke3,Bb1,Be4,Ba2,Bd3,Bb3,Be2,Bc2,Bd3', 'Bxd3,Kxd3,Kf4,Ke2,e4', 'https://lichess.org/training/Nl60l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nl6Te', 'Rapid', 'AKUMARGMASTER2019', 1699, 'Alixchess', 1707, 'e4,d5,exd5,Qxd5,d4,Qe4+,Be3,Nc6,Nc3,Qg6,h3,e6,Bd3,Qxg2', 'Be4,Qxh1,Bxh1', 'https://lichess.org/training/nl6Te');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nla7b', 'Rapid', 'AEmreZengin', 1726, 'Jadial', 1648, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,Bg5,f6,Bd2,Bg4,O-O,Nd4,c3,Nxf3+,gxf3,Bh3,Qb3,Bxf1,Bxd5,Bxd3', 'Bf7+,Kd7,Qe6#', 'https://lichess.org/training/Nla7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlAHU', 'Rapid', 'nischach', 2032, 'Coach_Pineapple', 2009, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,Nf3,Nxc3,bxc3,Bf5,g3,e6,Bg2,Nc6,O-O,Bd6,d3,O-O,Bd2,Bg6,Rb1,Rb8,Nh4,Qd7,Nxg6,hxg6,Be3,b6,Qa4,Ne5,Qxd7,Nxd7,Rfd1,Ne5,c4,Ng4,Bd2,Nf6,Bb4,c5,Bc3,Nd7,a4,Be5,Bxe5,Nxe5,Ra1,f5,a5,g5,axb6,axb6,Rab1,f4,Rb2,g4,Rdb1,f3,exf3,gxf3,Bf1,Nd7,Bh3,Kf7,Re1,Rfe8,Bg4,Kf6,Bxf3,Ne5,Be4,Red8,Rb3,Rd4,f4,Nf7,Reb1,Nd6,Re1,b5,cxb5,c4,Rc3,cxd3,Rxd3', 'Rxe4,Rxe4,Nxe4', 'https://lichess.org/training/nlAHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NlAnH', 'Rapid', 'AHMEDALAZZAMI', 1954, 'Kupres', 1956, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Bd6,f4,Bd7,fxe5,Nxe5,Bxd7+,Qxd7,Nf3,f6,Nxe5,Bxe5,Bxe5,fxe5,Qh5+,Kd8,Qxe5,Nf6,O-O,Re8,Qg5,d4,Na3,dxe3,dxe3,h6,Qc5,Ne4,Qd4,Nd6,Rad1,Kc8,Nb5,Rd8,Nxd6+,cxd6,c4,Kc7,Rf3,a6,Rg3,g5,Qf6,Rh8,Rh3,Raf8,Qd4,Qe6,c5,d5,Qxd5,Qg4,Rg3,Qe2,Qd7+,Kb8,Qd2', 'Rf1+,Rxf1,Qxd2', 'https://lichess.org/training/NlAnH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLC1m', 'Rapid', 'MG2020US', 1804, 'saksham_singh', 1723, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nf6,e5,Nd5,Bc4,d6,Bxd5,exd5,Nf3,Nc6,Bf4,dxe5,Nxe5,Nxe5,Bxe5,Bf5,Nc3,Bb4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/NLC1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLdch', 'Blitz', 'majstor9', 2350, 'FM barsik1977', 2297, 'd4,e6,c4,f5,Nc3,Nf6,Bg5,Be7,e3,d5,Nf3,c6,Qc2,O-O,Bd3,Ne4,Bxe7,Qxe7,O-O,Nd7,Rfe1,g5,Rab1,g4,Nd2,Qh4,Nf1,Ndf6,f3,gxf3,gxf3,Ng5,Qg2,Kh8,Kh1,Rg8,Ng3,Nh5,Rg1,Nh3,Nce2,f4,exf4,N5xf4,Nxf4,Nxf4,Qd2,Bd7,Rbe1,Rg7,Ne2,Nh3,Rxg7,Kxg7,Ng1', 'Nf2+,Kg2,Nxd3', 'https://lichess.org/training/NLdch');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NlEk2', 'Rapid', 'The_Mind_Sculptor', 1660, 'nutalicious', 1683, 'c4,e6,d4,d5,Nf3,Nc6,Nc3,Bb4,Bd2,Nf6,e3,O-O,Bd3,Qe7,O-O,Bd7,a3,Bxc3,Bxc3,Ne4,Bxe4,dxe4,Nd2,Qh4,g3,Qh3,Nxe4,h6,f4,Ne7,Nc5,Bc6,Rf2,Nf5,Qd2,a5,e4,Ne7,d5,exd5,cxd5,Rfd8,dxc6,Rxd2,cxb7,Rb8,Rxd2,Nc6,Rad1,Qh5,Rd5,Qe2,R5d2', 'Qe3+,Rf2,Qxc5', 'https://lichess.org/training/NlEk2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLeu3', 'Blitz', 'piplup1636', 2030, 'WIM Efremova', 2242, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Nc3,Nxe5,Nxe5,Qxe5,e4,Bb4,Bd2,Bxc3,Bxc3,Qxe4+,Qe2,Qxe2+,Bxe2,f6,O-O-O,d6,Rhe1,Ne7,Rd3,Kd8,Rg3,Rg8,Bf3,c6,Be4,Bf5,Bxf5,Nxf5,Bxf6+,Kd7,Rf3,gxf6,Rxf5,Raf8,g3,d5,h4,Kd6,Kd2,Rg4,Rh5,Rf7,Rh6,Ra4,a3,a5,f3,Rd4+,Ke3,c5,Re2,b5,c3,Ra4,Kd2,b4,axb4,axb4,cxb4,Rxb4,Kc2,c4,Rd2,Rb3,Rh5,Rb5,Kc3,Rfb7,Kd4,Kc6,Rh6,Rf7,Rh5,f5,Rh6+,Kc7,f4,Rg7,Ke5,Rxg3,Rxh7+,Kc6,Kxf5,Kc5,Rd7,Rd3,Rh2,Kb4,h5,d4+,Ke4', 'Re3+,Kxd4,Rd3+,Ke4,Rxd7', 'https://lichess.org/training/nLeu3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLGkm', 'Rapid', 'Kolyandra-2_0_1_7', 1760, 'olim1_1', 1737, 'd4,d5,c4,Bf5,Nc3,Nf6,Bf4,e6,e3,Bb4,a3,Bxc3+,bxc3,O-O,Nf3,Ne4,Qb3,b6,cxd5,exd5,Bd3,Nc6,Qc2,h6,O-O,Re8,Ne5,Nxe5,Bxe5,f6,Bf4,g5,Bg3,Nxg3,hxg3,Bxd3,Qxd3,Kg7,Rab1,a5,Rb5,Rb8,Qe2,c6,Rb2,Qd6,a4,Qa3,Ra2,Qxc3,Raa1,Qb4,Qg4,Qd6,Rfc1,Ra8,Rab1,Reb8,Qf5,b5,axb5,cxb5,Rc5,b4,Rxd5,Qc7,Rd7+,Qxd7,Qxd7+,Kg6,Qa4,Rd8,Rc1,Rdb8,Rc5,b3,Rxa5', 'Rxa5,Qxa5,b2', 'https://lichess.org/training/NLGkm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLgOD', 'Rapid', 'ali43', 1738, 'deitz', 1736, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,O-O-O,d3,e5,Be3,e4,dxe4,Qxe4,Qe1,Qxc2,Rc1,Qxb2,Rxc6,bxc6,Bxa7,Qxa2,Be3,Bb4', 'Qxb4,Qxe2,Qxg4+', 'https://lichess.org/training/nLgOD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlHMP', 'Rapid', 'GermanLeC', 1956, 'peakypoe', 1968, 'c4,e5,g3,Nf6,Bg2,Bc5,e3,O-O,a3,c6,Nc3,d5,d4,exd4,exd4,Re8+,Nge2,Bb6,c5,Ba5,b4,Bc7,O-O,Bg4,f3,Bh5,Nf4,Bxf4,Bxf4,Ne4,Nxe4,Rxe4,g4,Rxf4,gxh5,Qf6,Rf2,Rxd4,Qf1,Nd7,Bh3,Ne5,f4,Nd3,Rf3,Nxf4,Rd1,Nxh3+,Rxh3,Qg5+,Kh1,Rf4,Qg1,Rg4,Qf2,Re8,Rg1,Rxg1+,Qxg1,Qd2,Rf3,Re1,Rf1,Re5,Qg4,f5,Qg3,f4,Qg4,Qe2,Qxf4,Qe4+,Qxe4,dxe4,h6,gxh6,Kg2,Kg7,Rf4,Kg6,Kf2,Rf5,Ke3,Rxf4,Kxf4,Kh5', 'Kxe4,Kg4,Ke5,h5,Kd6', 'https://lichess.org/training/nlHMP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLIi9', 'Rapid', 'eren1', 1956, 'Megash1983', 2047, 'e4,c5,Nc3,Nc6,Nf3,e5,Bc4,Be7,O-O,Nf6,a3,O-O,d3,d6,Be3,Bg4,h3,Bh5,Kh1,Nd4,Rg1,a6,g4,Bg6,h4,Nxg4,Rxg4,Bh5,Rg3,Nxf3,Rxf3,Qd7,Nd5,Bxh4,Nb6,Qg4,Rxf7,Qh3+,Kg1,Bxd1', 'Rf3+,Kh8,Rxh3', 'https://lichess.org/training/NLIi9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLiPg', 'Rapid', 'ana2004', 1916, 'halir', 1992, 'e4,e5,Bc4,Nc6,Nf3,Be7,d3,Nf6,O-O,O-O,Nc3,d6,Nd5,Bg4,h3,Bh5,Nxf6+,Bxf6,g4,Bg6,c3,Qd7,Bg5,h5,Bxf6,gxf6,Nh2,hxg4,Qxg4,f5,exf5,Qxf5,Qxf5,Bxf5,Ng4,e4', 'Nh6+,Kh7,Nxf5', 'https://lichess.org/training/nLiPg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nliPw', 'Blitz', 'Carlsendisfrazado', 2225, 'WIM Svetla_Yordanova', 2175, 'e4,d6,d4,Nf6,Nc3,g6,Bd3,Bg7,f3,O-O,Be3,c6,Qd2,b5,O-O-O,Qa5,Kb1,Re8,h4,b4,Nce2,Be6,b3,Nbd7,h5,Nf8,Bh6,gxh5,Bxg7,Kxg7,Nf4,Ng6,Nxe6+,fxe6,f4,Rg8,e5,Nd5,Ne2,Nc3+,Nxc3,bxc3,Qc1,Raf8,Rxh5,dxe5,Rdh1,Rh8,f5,exf5,Bxf5,Rf6,Qh6+,Kf7,Qc1,Kf8,Bxg6,Rxg6,Rxh7,Rxh7,Rxh7,exd4,Qf4+,Rf6', 'Qb8+,Qd8,Qxd8#', 'https://lichess.org/training/nliPw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlirS', 'Rapid', 'laufer_02', 1905, 'Ndhita', 1894, 'e4,d5,a3,dxe4,Bc4,Nf6,d3,exd3,Ne2,dxe2', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/nlirS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLj83', 'Rapid', 'Voin55115', 2004, 'Vladimirrostov', 1673, 'd4,d5,e3,e6,Bd3,Nf6,Nd2,g6,f4,Bg7,Ngf3,O-O,O-O,Nc6,c3,Bd7,Ne5,a6,Ndf3,Ne4,Bxe4,dxe4,Nd2,f5,Ndc4,b5,Nxd7,Qxd7,Ne5,Nxe5,fxe5,Rf7,Bd2,Bh6,Qb3,Qd5,Qxd5,exd5,Rf2,Raf8,b4,f4,exf4,Bxf4,e6', 'Bxh2+,Kxh2,Rxf2', 'https://lichess.org/training/nLj83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NlK91', 'Rapid', 'Harounical', 1736, 'WaleedEid', 1794, 'c4,e5,g3,Nf6,Bg2,c6,Nc3,Be7,Nf3,O-O,Nxe5,Re8,O-O,Bc5,Nf3,d5,cxd5,Nxd5,Nxd5,Qxd5,e3,Bg4,d4,Be7,h3,Be6,Bd2,Qd7,Re1,Bxh3,Ne5,Qe6,e4,Bxg2,Kxg2,Nd7,Nxd7,Qxd7,Rh1,Qxd4,Qc2,Bc5', 'Be3,Qxe4+,Qxe4,Rxe4,Bxc5', 'https://lichess.org/training/NlK91');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlkEN', 'Rapid', 'Azeri8800', 1931, 'nikeadidas', 1883, 'Nf3,d5,b3,c5,Bb2,d4,e3,Nc6,exd4,cxd4,Bb5,Bg4,Bxc6+,bxc6,Bxd4,Bxf3,Qxf3,Rc8,Bxa7,c5,Qd3,Qa5,Bxc5,Qxc5,Nc3,e6,O-O,Nf6,Rac1,Be7,Qb5+,Qxb5,Nxb5,O-O,c4,h6,d4,Ne4,f3,Nd6,Nxd6,Bxd6,c5,Bf4,Rcd1,Be3+,Kh1,Rfd8,b4,Rxd4,Rxd4,Bxd4,Rd1,Bc3,Rb1,Kf8,a4,Ke7,a5,Rb8,a6,Kd7,b5,Bd4,b6,Bxc5,a7,Ra8', 'b7,Rxa7,b8=Q', 'https://lichess.org/training/nlkEN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLMDP', 'Rapid', 'mansso', 1698, 'CapsicumAnnuum', 1706, 'Nf3,Nf6,c4,e6,Nc3,Bb4,d4,c6,Bg5,d5,cxd5,cxd5,Ne5,Nbd7,e3,Qc7,Rc1,Nxe5,dxe5,Qxe5,Bxf6,Qxf6', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/NLMDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlMjk', 'Classical', 'IRONMAN35', 1887, 'makibanane', 1914, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nc3,Nf6,O-O,g6,Re1,Bg7,Bxc6,bxc6,e5,dxe5,Rxe5+,Kf8,Re1,c5,Nb3,c4,Nc5,Bc6,Bg5,h6,Bf4,Nh5,Qxd8+,Rxd8,Bxc7,Rc8,Bd6+,Kg8,Be5,Bxg2,Bxg7,Kxg7,N5e4,Bh3,Rad1,Rhe8,Nd6,Rxe1+,Rxe1,Rd8,Rd1,Rb8,Nxc4,Bf5,Rd2,Re8,Kf1', 'Bh3+,Kg1,Re1#', 'https://lichess.org/training/nlMjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLMu4', 'Classical', 'Dominant25', 1673, 'Yuri_Tyumen', 1651, 'c4,e5,Nc3,Nf6,e3,d6,Nf3,Bg4,Be2,Nc6,O-O,Qd7,d4,exd4,Nxd4,Bxe2,Ncxe2,O-O-O,Rb1,Ne4,Qd3,f5,f3,Nxd4,exd4,Nf6,b4,h6,Be3,g5,Qa3,Kb8,d5,b6,c5,f4,Bd4,dxc5,bxc5,Qxd5,Rfc1,Nd7,Qc3,Rh7,cxb6,Nxb6,Bxb6,axb6,a4,Bc5+', 'Qxc5,Qxc5+,Rxc5', 'https://lichess.org/training/NLMu4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLmY2', 'Rapid', 'buihuuduc', 1650, 'zen4ever99', 1730, 'd4,c6,e3,d5,Bd3,Nf6,Nc3,e6,a3,c5,dxc5,Bxc5,b4,Bd6,Nce2,b6,Bb2,Bb7,Nf3,h6,h3,Be7,Ne5,Nbd7,O-O,O-O,Bd4,Bd6,f4,Bxe5,fxe5,Ne4,Nc3,f5,exf6,Ndxf6,Nxe4,Nxe4,Bxe4,dxe4,Qg4,Qe7,Be5,Bd5,Qg3,Rf5,Rad1,Qg5', 'Rxf5,Qxg3,Bxg3,exf5,Rxd5', 'https://lichess.org/training/nLmY2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLnMd', 'Rapid', 'PetitPanda', 1964, 'Ram_Abbalah', 1822, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,Nc6,Be3,e6,Nf3,Be7,Bd3,O-O,a3,a6,O-O,Nd7,Qc2,e5,d5,Na7,Nd2,b5,f4,Bb7,b4,exf4,Bxf4,Ne5,Nf3,Bf6,Rac1,Qb6+,Kh1,Nc8,Qd2,Ne7,Be3,Qd8,Ne2,N7g6,Ng3,Rc8,Bb1,Qd7,Bg5,Nc4,Rxc4,Bxg5,Qxg5,Rxc4,Nf5,f6,Qg4,Ne5,Nxe5,fxe5', 'Nh6+,Kh8,Rxf8#', 'https://lichess.org/training/NLnMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NlODq', 'Rapid', 'kaismet', 1693, 'calchessdnguyen', 1629, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb3,Nxb3,axb3,Nxd5,d3,Be7,Nf3,Bg4,O-O,O-O,h3,Bh5,c4,Nb4,Nc3,Bxf3,Qxf3,Nxd3', 'Rd1,Nxc1,Rxd8', 'https://lichess.org/training/NlODq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLOIh', 'Rapid', 'Mocsudanov', 1951, 'westmall', 1880, 'e4,c5,f4,d6,Nf3,e6,Bc4,Be7,O-O,Nc6,Nc3,a6,a4,Nf6,e5,dxe5,fxe5,Nd5,d4,cxd4,Nxd4,Nxc3,bxc3,Nxe5,Qh5,Ng6,Bd3,O-O,Bd2,Qd5,Qe2,Bc5,Be3,e5,Nf3,Bg4,h3,Nf4,Qd2,Bxe3+,Qxe3,Bxf3,Rxf3,Nxd3,cxd3,Rad8,Raf1,f6,Qb6,Rd6,Qb4,Rfd8,Kh2,Qc6,Qb1,b6,Qb3+,Kh8,c4,a5,Rg3,Qc5,Rff3,Qb4,Qc2,e4,dxe4,Rd2,Qb3,R8d4,e5,Rxc4,exf6,Qxb3', 'fxg7+,Kg8,Rf8#', 'https://lichess.org/training/nLOIh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlosg', 'Rapid', 'lodda', 1776, 'javier_io', 1713, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,c4,Bb4+,Nc3,Nf6,Be2,O-O,O-O,d5,e5,Bxc3,bxc3,Nd7,cxd5,exd5,Qxd5,Nb6,Qe4,Qc7,Bd3,g6,Ba3,Re8,Bd6,Qxc3,Rac1,Qd2,Rc7,Bf5,Qxb7,Qxd3,Rxf7,Nd7,Rxd7,Bxd7,Qxd7,Qc4,Re1,Qxa2', 'e6,Rxe6,Qxe6+,Qxe6,Rxe6', 'https://lichess.org/training/nlosg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlOZ9', 'Rapid', 'wey247', 1837, 'Coolumsu', 1797, 'e4,a5,Nf3,b6,Bc4,Bb7,Nc3,c6,a4,h6,Ne5,e6,Qh5,Qf6,Nf3,g6,Qh3,d6,d4,h5,e5,Qe7,Bg5,f6,exf6,Nxf6,O-O,d5,Bd3,Nbd7,Bxg6+,Kd8,Rfe1,Bh6,Rxe6,Qb4,Bxf6+,Nxf6,Rxf6,Qxb2,Re1,Qxc3,Qe6,Bc8,Qd6+,Bd7,Bf5,Ra7,Qe7+,Kc8,Bxd7+,Rxd7,Qe6,Bg7,Qxc6+,Qxc6,Rxc6+,Kb7,Rce6,Bf8,c3,Rg8,g3,Rc7,Rc1,Be7,Rh6,Rf8,Ne5', 'Bg5,Rxb6+,Kxb6', 'https://lichess.org/training/nlOZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLPdn', 'Classical', 'smail1972', 1687, 'Urbi976', 1622, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,d6,h3,Nf6,Qb3,Qe7,Bd5,Nxd5,Qxd5,Be6,Qb5,O-O-O,d4,a6,Qd3,d5,dxe5,dxe4,Qxe4,Bd5,Qg4+,Kb8,O-O,Bxf3,Qxf3,Nxe5,Qf4,Nd3,Qf3,Ne1,Qg3,Nc2,Bf4,Nxa1,Na3,Rd7,Rxa1,Qe2,Rb1,f6,b4,g5,Be3,Bd6,Qg4,Qxg4,hxg4,h5,gxh5,Rxh5,g4,Rh8,Bd4,Be5,Bxe5,fxe5,Nc4,Rdh7,Kg2,Re8,Re1,Rhe7,a4,b5,axb5,axb5,Na5,Re6,Re4,Rf8,f3,Rc8,Nb3,Rd8,Nc5,Rc6,Rxe5,Rd2+,Kg3,Rc2,Ne4,Rg6,Re8+,Kb7,Nc5+,Kc6,Ne4,Rc1,Kf2,Kd5,Rd8+,Kc4,Rd4+,Kb3,Ke2,Rxc3,Nxc3,Kxc3,Ke3,Rg8,Re4,Rf8,Kf2,Rf4', 'Rxf4,gxf4,g5', 'https://lichess.org/training/NLPdn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLpf9', 'Rapid', 'Sfide_Mentali', 1841, 'STAR69', 1771, 'e4,c5,Nf3,e6,Nc3,Nc6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Qd2,O-O,O-O-O,d5,Nxc6,bxc6,e5,Nd7,Bxe7,Qxe7,f4,a5,h4,Ba6,g4,Bxf1,Rdxf1,Nc5,g5,g6,h5,Kg7,Ne2,Ne4,Qe3,Qb4,c3,Qc5,Qxc5,Nxc5,Nd4,Rac8,Rh3,Rh8,Rfh1,gxh5,Rxh5,Nd3+,Kc2,Nxf4,Rh6,Ng6,Re1,Ne7,Rf6,Ng8,Rf4,Ne7,Ref1,Rhf8,Kb3,Rb8+,Ka4,Rxb2', 'Nxe6+,fxe6,Rxf8', 'https://lichess.org/training/NLpf9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlPt7', 'Classical', 'Ruslan_Kliufinskyi', 2175, 'secaje06', 1965, 'e4,Nc6,d4,e5,Nf3,exd4,Bc4,Bc5,Ng5,Nh6,Bxf7+,Nxf7,Nxf7,Kxf7,Qh5+,Kg8,Qd5+,Kf8,Qxc5+,d6,Qh5,Be6,c3,Qd7,h3,Kg8,O-O,h6,cxd4,Nxd4,Nc3,Rf8,f4,Kh7,f5,Bf7,Qd1,Nc6,b3,Re8,f6,Bg6,Bb2,Ne5,Nd5,c6,fxg7,Kxg7,Nf6,Qe6,Nxe8+,Rxe8,Qf3,Kh7,Bxe5,Qxe5,Rae1,Bxe4,Qf7+,Kh8,Qf6+,Kh7,Qxe5,Rxe5,Rf7+,Kg6,Rxb7,d5,Rxa7,Rg5,Re2,Rg3,Ra6,Rc3,Rb6,Kg5,a4,Kf4,a5,Kg3,Re1,Rc2,Rxe4', 'Rc1+,Re1,Rxe1#', 'https://lichess.org/training/nlPt7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLQ5q', 'Classical', 'xX-Pandemonium-Xx', 1731, 'Eckvilli', 1632, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,d6,d4,exd4,Nxd4,Ne5,Be2,g5,Nc3,Bd7,f4,gxf4,Bxf4,Bg7,Bh5,Nf6,Bxe5,dxe5,Bxf7+,Kxf7,Qh5+,Kg8,Qxe5,Ng4,Qd5+,Kh7,Rf7,Qg5,Qxd7,Qe3+,Kh1,Nf2+,Rxf2,Qxf2,Nf5,Rhg8,Nd5,Rad8,Nf6+,Kh8,Qe6,Rdf8,Nxg8,Rxg8,Ne7,Rd8,Nd5,Rf8,Rg1,c6,Ne7', 'Qxg1+,Kxg1,Bd4+,Kh1,Rf1#', 'https://lichess.org/training/nLQ5q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NlqOh', 'Rapid', 'Amator47', 1811, 'pour-la-paix', 1910, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Bd3,Bg4,h3,Bxf3,Qxf3,e6,O-O,Bd6,Bb5+,Nc6,Nc3,a6,Bd3,O-O,Be3,Nb4,Bg5,Be7,a3,Nxd3,Qxd3,Rc8,Rae1,Qb6,Nxd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/NlqOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NlQqg', 'Blitz', 'FM Dragonprem', 2417, 'R1965', 2329, 'd4,g6,c4,Bg7,Nf3,d6,Nc3,Nc6,d5,Ne5,e4,Bg4,h3,Nxf3+,gxf3,Bd7,f4,e5,dxe6,Bxe6,Be3,Ne7,f5,gxf5,Rg1,Be5,Qb3,b6,f4,Bf6,Nd5,Bh4+,Kd1,fxe4,Bd4,Rf8,f5,Nxf5,Bc3,c6,Nf4,Ne3+,Kd2,Nxf1+,Raxf1,Bg5,Kc2,Bxf4,Rxf4,Qe7,Qa4,Kd7,Bf6,Qe8,Kd2,Rg8,Rff1,Kc7,Ke3,Rg6,Rxg6,hxg6,Rf4,Qg8,Rh4,Qe8', 'Rh8,Qxh8,Bxh8', 'https://lichess.org/training/NlQqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLRVz', 'Blitz', 'camayo123', 2055, 'Andi0412', 1961, 'd4,f5,Nc3,Nf6,Bf4,d6,e3,g6,Bc4,e6,Qd2,Bg7,O-O-O,O-O,f3,a6,e4,fxe4,fxe4,Nxe4,Nxe4,d5,Bh6,dxc4,Bxg7,Kxg7,Nf3,Nc6,c3,b5,h4,h6,h5,g5,Nfxg5,hxg5,h6+,Kh8,Nxg5,Qf6,Rdf1,Qe7,Qe3,Bd7,h7,e5,d5,Na5,Rf3,Rxf3,gxf3,Nb7,f4,Nc5,fxe5,Nd3+,Kc2,Bf5,e6,Nf2+,Kc1,Nxh1,Nf7+,Kxh7', 'Qh6+,Kg8,Qh8#', 'https://lichess.org/training/NLRVz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlsA8', 'Rapid', 'widow_queen', 1861, 'panika13', 1873, 'd4,Nf6,e3,g6,Bd3,d6,Nd2,Bg7,f4,c5,c3,cxd4,exd4,Nc6,Ngf3,Ng4,Ne4,Bf5,Qb3,Qc7,Qc2,b6,Nh4,Bxe4,Bxe4,Nxd4,Qa4+,b5,Qd1,Nf2,Kxf2,Qc5,cxd4,Bxd4+,Kg3,Rc8,Nf3', 'Bf2+,Kh3,Qh5+,Nh4,Qxh4#', 'https://lichess.org/training/nlsA8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLSDJ', 'Blitz', 'dirknik', 2109, 'WFM Idrisova_Roza', 2221, 'Nf3,d5,c4,c6,e3,Nf6,Nc3,Bg4,h3,Bxf3,Qxf3,e6,cxd5,exd5,d4,Bd6,Bd3,Nbd7,b3,O-O,Bb2,Re8,O-O,Qe7,Rae1,Ne4,Bxe4,dxe4,Qg4,g6,d5,f5,Qe2,c5,Nb5,Be5,Bxe5,Qxe5,Rd1,a6,Na3,Red8,Nc4,Qf6,d6,b5,Na5,Rac8,a4,Ne5,axb5,axb5,Nb7,Rd7,Qxb5,Rb8,Qxc5,Rdxb7,Qd5+,Kg7,b4,Rd7,b5,Nf7,Rd4,Rxd6,Qc4,Rxd4,exd4,Nd6', 'Qc7+,Kh6,Qxb8', 'https://lichess.org/training/nLSDJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLSyB', 'Blitz', 'RedDevil91', 1760, 'amaljith', 1762, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe3,Nf6,Nc3,d6,Bb5+,Bd7,Qd3,a6,Bxd7+,Nxd7,O-O,Ne5,Qd5,Qc7,Bf4,Qc6,Bxe5,Qxd5,Nxd5,dxe5,Nc7+,Kd7,Nxa8,Bd6,Nb6+,Kc6,Nc4,Bc7,Rad1,b5,Ne3,g6,Nd5,Ba5,c3,h5,h3,h4,Kh2,f5,exf5,gxf5,g3,e4,gxh4,Rxh4,Kg3,Rh5,Rh1,Rg5+,Kf4,Rh5,Ne3', 'Bc7+,Rd6+,Bxd6#', 'https://lichess.org/training/NLSyB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nltuP', 'Rapid', 'unantha', 1620, 'jaunte', 1769, 'd4,d5,Nc3,Nf6,Nf3,Bf5,a3,e6,e3,c5,Bd3,Bxd3,Qxd3,Nc6,dxc5,Bxc5,Bd2,a6,O-O,O-O,b4,Bd6,Ne2,b5,Nf4,Nd7,e4,Nce5,Nxe5,Nxe5,Qe3,Nc4,Qe2,e5,Nh3,d4,Bg5,Be7,Bxe7,Qxe7,f4,f6,f5,Rac8,Nf2,Rc6,Nd3,Rfc8,Nc5,Qf7,Rf3,Qh5,Qf2,Ne3,Qg3,Qg4', 'Rxe3,Qxg3,Rxg3', 'https://lichess.org/training/nltuP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLuhQ', 'Blitz', 'kawungjati', 2062, 'WFM Arychess25', 2103, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,h6,Nf3,e4,Ne5,Bd6,d4,exd3,Nxd3,Qc7,g3,O-O,Be3,Re8,Nc3,Ba6,Qd2,Rad8,O-O,Nc4,Qc1,Nxe3,fxe3,Bxd3,Bxd3,Bc5,Nd1,Ng4,Rf3,Qe5,Kg2,Nxe3+,Nxe3,Bxe3,Qf1,Qd5,b3,Bb6,Rd1,Kh8,Bc4', 'Qxd1,Qxd1,Rxd1', 'https://lichess.org/training/NLuhQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLVTm', 'Rapid', 'topsoul', 2038, 'maelic', 2066, 'e4,c5,d3,d6,Be2,Nf6,f4,Nc6,c3,b5,Be3,b4,c4,e6,Nd2,Bb7,h3,Be7,Ngf3,O-O,g4,d5,e5,Ne8,g5,Nc7,b3,dxc4,dxc4,Nd4,Rg1,Nf5,Bf2,a5,a4,bxa3,Rxa3,Na6,Qb1,Nb4,Ne4,Qc7,Nh4,Nxh4,Bxh4,Qc6,Bf3,Rfd8', 'Nf6+,Bxf6,Bxc6', 'https://lichess.org/training/nLVTm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlWDn', 'Rapid', 'Jubbza', 1909, 'JB007GY', 1904, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,Nf3,O-O,e3,c6,Bd3,c5,cxd5,cxd4,Nxd4,Nxd5,Bxe7,Nxe7,O-O,Nbc6,Rc1,Nxd4,exd4,Bd7,Qh5,g6,Qf3,Bc6,Ne4,Qxd4,Qe2,Rad8,Rfd1,Bxe4,Bxe4,Qb6,g3,Rxd1+,Rxd1,f5,Bf3,Rc8,Rd7,Rc7,Rxc7,Qxc7,Qxe6+,Kf8,Qf6+,Ke8,Qh8+,Kd7,Qxh7,Qc1+,Kg2,Qxb2,Qf7,b6,Bd5,Qe5,Bb7,Qe6', 'Bc8+,Kxc8,Qxe6+', 'https://lichess.org/training/nlWDn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nlx3p', 'Rapid', 'lev89', 1682, 'Kirun4ik', 1724, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Nf6,Nc3,Nc6,e3,a6,Bd3,Bg4,Be2,Bxe2,Qxe2,e6,Rc1,Be7,Nf3,O-O,O-O,Bd6,Bxd6,Qxd6,Nd2,Rac8,f4,Ne7,Nf3,Ng6,Ne5,Qd8,Nd1,Nxe5,fxe5,Ne4,Rxc8,Qxc8,Nf2,f5,Nxe4,fxe4,Rxf8+,Qxf8,Qg4,Qf7,Qh4,Kf8,Qd8+,Qe8,Qd6+,Qe7,Qb8+,Kf7,Qc8,g5,Qh8,Kg6,Qg8+,Kh6,Qb8,Kg6,Qg8+,Kh6,Qb8,Kh5,Qd6,Qf7,Qb4,g4,Qe1,Kg5,Qg3,h5,h4+,Kg6,Qe1,Qc7,Qf2,Qf7,Qe1,Qc7,Qf2,Qf7,Qe1,Qc7,Qe2,Qf7,Qc2,Kf5,Qc8,g3,Qc1', 'Kg4,Qd1+,Kxh4', 'https://lichess.org/training/Nlx3p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLXn1', 'Rapid', 'boj', 1973, 'MSSeva', 1628, 'd4,d5,Nc3,Nf6,Nf3,Bf5,Bf4,e6,a3,Be7,g3,Nbd7,Bg2,Nh5,Be5,f6,Bf4,Nxf4,gxf4,Bd6,e3,Nb6,Nh4,Bg6,Nxg6,hxg6,Qg4,Kf7,e4,f5,exf5,exf5,Qg3,Qe7+,Kd1,c6,h4,Qf6,Ne2,Rae8,c3,Bc7,Bf3,Rh6,h5,Ke7,Qg5,Reh8,Re1,Kf8,Ng3,Qxg5,fxg5,R6h7,hxg6,Rh3,Bg2,Rh2,Rg1,Bf4,Nxf5,Nc4,b3,Nd6,Nxd6,Bxd6,c4', 'Rxg2,Rxg2,Rh1+,Ke2,Rxa1', 'https://lichess.org/training/NLXn1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NlXVe', 'Rapid', 'Ricardo1214', 1613, 'quarantanna', 1715, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bg5,Qa5,Bxf6,Bxc3+,bxc3,Qxc3+,Ke2,gxf6,Rb1,b6,Qd3,Ba6,Nb5,Qxd3+,cxd3,Bxb5,Rxb5,Nc6,Ke3,Ke7,Be2,Rhg8,g3,Ne5,Rc1,Rac8,Rbb1,Nc6,a3,Na5,f3,Rxc1,Rxc1,Kd6,d4,e5,d5,Nb3,Rc4,Nd4,Ra4,Nxe2,Kxe2,a5,Rc4,b5,Rc2,h5,Rb2,Kc5,Kd3,b4,a4,h4,Rc2+,Kd6,g4,Rg5,Rc8,f5,gxf5,Rg2,Ra8,Rxh2,Rxa5,b3,Rb5,b2,a5,h3,a6,Rf2,Ke3', 'h2,Kxf2,h1=Q', 'https://lichess.org/training/NlXVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLynU', 'Classical', 'GunawanJubang', 1991, 'Chess_mate001', 1983, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Be3,Nf6,h3,Bd6,Nbd2,Qe7,c3,Bf5,Qe2,a6,g4,Bg6,Nh4,Qd7,f4,Be4,Nxe4,Nxe4,Nf5,O-O-O,O-O-O,g6,Nxd6+,Qxd6,Bg2,Ng3,Qd2,Nxh1,Rxh1,Rhe8,h4,Na5,Bf1,Qe6,Bf2,Qxg4', 'Bh3,Qxh3,Rxh3', 'https://lichess.org/training/nLynU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLyPS', 'Blitz', 'DrMHJ', 2277, 'CM nieKezpieczny91', 2437, 'c4,e6,Nc3,d5,d4,a6,cxd5,exd5,Nf3,Bd6,g3,Nf6,Bg2,O-O,O-O,Re8,Bf4,c6,Bxd6,Qxd6,Qd2,Ne4,Qc2,Bf5,Qb3,b5,a4,b4,Nh4,Nd2,Nxf5,Qf8,Qc2,bxc3,Rfe1,cxb2,Qxb2,Nc4,Qc3,g6,Nh4,Nd7,e4,Nf6,e5,Nd7,f4,a5,f5,Qb4,Qf3,Nd2,Qg4', 'Nxe5,Rxe5,Rxe5', 'https://lichess.org/training/nLyPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlYYs', 'Classical', 'Arbind0051', 1836, 'princeajay', 1807, 'd4,Nf6,Nf3,d5,c4,c6,b3,Bf5,Nbd2,e6,Ne5,Bb4,Nd3,Bc3,Bb2,dxc4,Bxc3,cxd3,e3,Nd5,Qc1,Bg6,e4,Nf4,g3,Ne2,Bxe2,dxe2,Kxe2,O-O,Kf3,f5,e5,Qg5,Kg2,f4,Rf1,f3+,Kh1,Qh5,Qe1,Qh3,Rg1,Rf5,Qe3', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/nlYYs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLzgu', 'Rapid', 'jihhaahuuuk', 2037, 'Corovicm', 2046, 'd4,d5,c4,e6,Nc3,dxc4,Nf3,Nc6,e3,b6,Bxc4,Bb7,O-O,Nf6,a3,Bd6,Qe2,O-O,Rd1,Re8,e4,e5,d5,Ne7,Bg5,Ng6,Rac1,h6,Be3,Rc8,Ba6,Bxa6,Qxa6,Ra8,Nd2,Qb8,f3,Nd7,b4,Rf8,Nb5,f5,Rc6,fxe4,Nxe4,Nf4,Bxf4,exf4,Nbxd6,cxd6,Nxd6,Ne5,Rdc1,Nxc6,Rxc6,Rf6', 'Rc8+,Rf8,Rxb8', 'https://lichess.org/training/nLzgu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlZJh', 'Rapid', 'Shanksponey', 1865, 'Eumartinez1954', 1929, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,c3,d6,Re1,O-O,h3,b5,Bc2,Bb7,d3,h6,Nbd2,Qd7,Nf1,Rfe8,Be3,Ba7,Bxa7,Rxa7,Ng3,Ne7,Nh4,Ng6,Nhf5,c5,Nh5,Nxh5,Qxh5,d5,Qg4,Kh7,h4,f6,h5,Nf4,g3,Ne6,exd5,Qxd5', 'Qg6+,Kh8,Qxe8+', 'https://lichess.org/training/nlZJh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nlzML', 'Rapid', 'abdulkadirfb', 1778, 'adria2003', 1840, 'd4,Nf6,Nf3,d5,c3,c5,g3,Nc6,Bg2,e6,Bg5,h6,Bxf6,Qxf6,e3,b6,O-O,Bb7,Re1,Rc8,Nbd2,Bd6,Nf1,O-O,Qa4,cxd4,exd4,Rfe8,Ne3,Qe7,Ng4,a6,Nfe5,b5,Qd1,Na5,Qc2,Qc7,Nf3,b4,Rac1,bxc3,bxc3,Bb4,Nge5,Qxc3,Qxc3,Rxc3,Rxc3,Bxc3,Rd1,Nc6', 'Nxc6,Bxc6,Rc1', 'https://lichess.org/training/nlzML');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLzNH', 'Blitz', 'saltyclown', 1629, 'veresovbhaikijai', 1682, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Nf6,e5,Ne4,Bxe4,Bxe4,O-O,Bxc3,bxc3,O-O,c4,d6,Re1,Bg6,exd6,cxd6,Bb2,h6,Qe2,Nd7,Red1,Nf6,c5,bxc5,dxc5,d5,Ne5,Rc8,c6,Bh7,c4,Ne4,cxd5,exd5,Rac1,Re8,Qd3,Nxf2,Qxd5,Nxd1', 'Qxf7+,Kh8,Ng6+,Bxg6,Qxg7#', 'https://lichess.org/training/NLzNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLzO6', 'Rapid', 'VValery', 1927, 'Daven01234', 1875, 'e4,e5,f4,Nc6,Nf3,exf4,Bc4,d6,O-O,Bg4,d4,Nf6,Nc3,Be7,Bxf4,O-O,h3,Bh5,Bd3,Nb4,Be2,Bg6,a3,Nc6,e5,dxe5,dxe5,Ne4,Nxe4,Bxe4,Qe1,a6,Rd1,Qc8,Nd2,Bxc2,Rc1,Bf5,g4,Bg6,h4,h6,g5,Qh3,gxh6,Bxh4,Rc3,Bxe1,Rxh3,Bxd2,Bxd2,Nxe5,hxg7,Kxg7,Bh6+,Kg8,Bxf8,Rxf8,Kf2,Rd8,Rfh1,Kg7,Rg3,Rd2,b4,Ra2,Rc1', 'Nd3+,Rxd3,Bxd3', 'https://lichess.org/training/nLzO6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nLzXL', 'Rapid', 'gokhancinbas', 1919, 'Makc_T', 1976, 'e4,c5,f4,Nc6,Nf3,e6,Bc4,d5,f5,dxc4,fxe6,fxe6,O-O,Nf6,Nc3,Bd6,Re1,O-O,e5,Nxe5,Nxe5,Qc7,Nxc4,Bxh2+,Kh1,Bg3,Rf1,Bd7,d3,Bc6,Be3,Bh4,Bxc5,Rf7,Qe2,b6,Bd4,Raf8,Be5,Qd8,Nd6,Rd7,Nde4,Nxe4,Rxf8+,Qxf8,Nxe4,Rf7,Nd6,Rf2,Qg4,Rxg2,Qxe6+,Kh8,Nf7+,Qxf7,Qxf7', 'Rf2+,Kg1,Rxf7', 'https://lichess.org/training/nLzXL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NLZXt', 'Classical', 'Frozent117', 1799, 'ali_iraq', 1724, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nf6,g3,Bg4,h3', 'Qe7+,Be2,Bxf3', 'https://lichess.org/training/NLZXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nM3Xv', 'Classical', 'mislov20', 1680, 'juseberu', 1719, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,e6,d3,a6,a3,Nc6,Bg5,b5,Ba2,Be7,O-O,O-O,h3,b4,axb4,h6,Bh4,g5,Nxg5,hxg5,Bxg5,cxb4,Ne2,Nh5,Bh6,Re8,Nf4,Nf6,Qf3,Ne5', 'Qg3+,Nfg4,hxg4', 'https://lichess.org/training/nM3Xv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nM486', 'Rapid', 'KingSlayer6', 1701, 'Frailejon', 1781, 'd4,e6,Nc3,d5,e4,c5,Nf3,Nc6,exd5,exd5,dxc5,Bxc5,Qxd5,Qb6,Ne4,Qa5+,Bd2', 'Bxf2+,Kxf2,Qxd5', 'https://lichess.org/training/nM486');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NM4DL', 'Rapid', 'BlazingDragon', 1847, 'bussydamboise7', 2103, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,d6,f3,O-O,Qd2,Re8,h4,Ne5,Bb3,Bd7,O-O-O,Qa5,Kb1,Rec8,Bh6,Rxc3,bxc3,Bxh6,Qxh6,Qxc3,h5,Nc4,Bxc4,Qxc4,Nb3,a5,hxg6,fxg6,e5,Bf5,Nd4,dxe5,Nxf5,gxf5,Rd7', 'Qb5+,Kc1,Qxd7', 'https://lichess.org/training/NM4DL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nM4ZD', 'Classical', 'dimitri_orga', 1621, 'NathanGeovane', 1648, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,e3,O-O,Bd3,h6,h4,hxg5,hxg5,Ne4,Bxe4,dxe4,Qc2,Bxg5,Qxe4,g6,Nc3,Nd7,O-O-O,Bf6,Ne5,Nxe5', 'dxe5,Qe7,exf6', 'https://lichess.org/training/nM4ZD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nm8c1', 'Blitz', 'upmb851', 1542, 'RussianAssasin', 1557, 'd4,Nf6,Bf4,d5,e3,a6,Bd3,e6,c3,b5,Nf3,b4,Ne5,a5,Bb5+,Bd7,Nxd7,Nbxd7,Qa4,Be7,Nd2,O-O,Bc6,Nb6,Qc2,Ra7,O-O,Nh5,Be5,f6,Bg3,a4,c4,dxc4,Nxc4,Ra6,Nxb6,Rxb6,Bxa4,Nxg3,hxg3,e5,Bb3+,Kh8,dxe5,fxe5,Rfd1,Bd6,Rac1,Qf6,Rd2,Qh6,Qe4,Rbb8,Qh4,Rf6,Rdc2,Rbf8,Qxh6,Rxh6,e4,Rhf6,Kf1,h5,Kg1,Rh6,Kf1,h4,gxh4,Rxh4,Kg1,Rxe4,Bd5,Ref4,g3,Rg4,Rc4,Rxc4,Rxc4,Rf5,a3,bxa3', 'Rh4+,Rh5,Rxh5#', 'https://lichess.org/training/nm8c1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NM8dP', 'Rapid', 'pawner85729', 1809, 'Rufini', 1725, 'd4,d5,c4,e6,e3,Nf6,Nf3,Bd6,Nbd2,Nbd7,Be2,O-O,c5,Be7,Bd3,a5,O-O,b6,c6,Nb8,Bb5,Ba6,a4,Qd6,Re1,Nxc6,Bxc6,Qxc6,Ne5,Qd6,b3,Nd7,Ba3,c5,Nxd7,Qxd7,dxc5,bxc5,Ne4,Rac8,Rc1,f5,Nxc5,Bxc5,Rxc5,Rxc5,Bxc5,Rc8,Qd4,e5,Qc3,Qc6,Rc1,Qe6,Qxa5,d4,exd4,exd4,Re1', 'Rxc5,Rxe6,Rxa5', 'https://lichess.org/training/NM8dP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nM9TI', 'Blitz', 'IM Frutek', 2427, 'Hoplong', 2169, 'c4,c6,Nc3,d5,d3,Nf6,Nf3,dxc4,d4,Bf5,Ne5,b5,f3,Qc7,e4,Bg6,Bf4,Qb7,h4,h6,Nxg6,fxg6,e5,Nd5,Nxd5,cxd5,e6,Qc6,Qe2,Na6,g3,Nc7,Bh3,Rb8,Kf1,Rb6,Kg2,Nxe6,Be5,Nc7,Rhe1,e6,a4,b4,a5,Ra6,Bxc7,Qxc7,Bxe6,Kd8,Bxd5,Bd6,Bxc4,Rc6,Bb5', 'Rc2,Rac1,Rxe2+', 'https://lichess.org/training/nM9TI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nmC66', 'Rapid', 'jirka46', 1791, 'PavelS_ZL', 2221, 'd4,d5,c4,e5,e3,exd4,Qxd4,Nc6,Qd1,Nf6,a3,Be6,cxd5,Nxd5,Be2,Bd6,Nf3,O-O,h3,Re8,O-O,Qf6,Nbd2,Bf8,Ne4,Qe7,Bd2,Rad8,Bb5,f5,Ng3,Qf6,Rb1,Bd6,Bxc6,bxc6,Nd4,Bd7,Nge2,c5,Nf3,f4,Nc3,Nxc3,Bxc3,Qh6,Nh2,fxe3,fxe3,Qxe3+,Kh1,Bc6,Re1,Qxh3,Rxe8+,Rxe8,Qb3+,Kh8', 'Bxg7+,Kxg7,Qxh3', 'https://lichess.org/training/nmC66');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nmcxY', 'Rapid', 'Angeljc69', 1875, 'Alfafour', 1779, 'e4,e5,Nf3,d6,Bc4,f6,O-O,Ne7,d4,Nbc6,Bb5,Bg4,Qd3,exd4,Nxd4,a6,Nxc6,Nxc6,Ba4,b5,Bb3,Ne5,Qg3,Qd7,a4,b4,a5,c5,Ba4,Nc6,Bxc6,Qxc6,Qxg4,Ra7,Be3,Re7,Nd2,h5,Qf5,Re5,Qg6+,Ke7,Nc4,Rxe4,b3', 'Rg4,Qxg4,hxg4', 'https://lichess.org/training/nmcxY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NMD7e', 'Rapid', 'yiannis_esth', 1735, 'stordito', 1649, 'd4,e6,c4,d5,cxd5,exd5,Nc3,Nf6,Nf3,Be6,e3,a6,Bd3,Bb4,O-O,O-O,Qc2,h6,a3,Bd6,e4,dxe4,Nxe4,Nxe4,Bxe4,c6,b3,Nd7,Bb2,Nf6,Bd3,Rc8,Rfe1,Kh8,Ne5,Bxe5,dxe5,Ng4,f3,Nxh2,Kxh2,Qh4+,Kg1,Qg3,Kf1,Rfe8,Qf2,Qh2,Bd4,Rcd8,Qg1', 'Qxg1+,Bxg1,Rxd3', 'https://lichess.org/training/NMD7e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NMD9s', 'Blitz', 'Kapilyadav', 1559, 'nyn2000', 1638, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,c6,d4,Nf6,h3,Bf5,Bd3,Bg6,O-O,Nbd7,Bf4,e6,a3,Nh5,Bh2,O-O-O,Bxg6,hxg6,Ne4,Nhf6,Nd6+,Bxd6,Bxd6,Qh5,Ne5,Nxe5,Qxh5,Rxh5,Bxe5,Rdh8,Rae1,R8h7,Re3,Ng4,Re4,Nxe5,Rxe5,Rh4,c3,Kd7,b4,b5,Ra1,f6,Re3,f5,a4,a6,axb5,axb5,Ra7+,Kd6,Ra1,f4,Re4,g5,Rae1,R7h6,Re5,Rg6,g3,fxg3,fxg3,Rxh3,Kg2,Rh5,g4,Rh4,Kg3,Rh8,Rc5,Rf8,Ree5,Rf1,c4,bxc4,Rxc4,Rf4,Rec5,e5,Rxc6+,Kd5,Rxg6,Rxd4,Rxg5,Rxc4,Rxg7,Rxb4,Re7,Rb3+,Kh4,e4,g5,e3,g6,Rb4+,Kh5,Re4', 'Rxe4,Kxe4,g7,Kd4,g8=Q', 'https://lichess.org/training/NMD9s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nmE5p', 'Blitz', 'tiblv', 1661, 'DrZP', 1553, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e6,Bxc4,Bb4,Nf3,Bxc3+,bxc3,O-O,O-O,c6,Bb3,Nbd7,Bc2,Re8,Qd3,e5,dxe5,Nxe5,Nxe5,Qxd3,Nxd3,Nxe4,Re1,Bf5,Nf4,g6,Bxe4,Bxe4,Ba3,h5,f3,Bf5,Kf2,Rad8,Be7,Rd2+,Kg3,Rc8,Bf6,b5,Rad1,Rxa2,Rd8+,Rxd8,Bxd8,Kg7,Bc7,f6,Re7+,Kh6,Kh4', 'g5+,Kg3,h4#', 'https://lichess.org/training/nmE5p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NmeHu', 'Rapid', 'JosefVan', 1935, 'AKiedis', 1890, 'd4,d6,Nf3,g6,Bg5,Bg7,e3,Nf6,c3,O-O,Nbd2,c6,a4,Bg4,Be2,Nbd7,h3,Bxf3,Nxf3,Qb6,b4,a5,b5,Ne4,Qc2,Nxg5,Nxg5,c5,Rc1,Rac8,Qe4,e6,O-O,d5,Qf3,Qd8,Qg4,Nf6,Qg3,h6,Nf3,Ne4,Qg4,h5,Qh4,Bf6,Qf4,Qe7,Ne5,Bg5,Qf3,Nd2,Qg3,Nxf1,Bxf1,Kg7,f4,Bf6,Nf3,cxd4,exd4,Qa3,Qe1,Qxa4,Ne5,Bxe5,Qxe5+,Kg8,Bd3,Qa3,Rf1,Qxc3,Bxg6,Qc7,Bh7+,Kxh7,Qxh5+,Kg7,Rf3,Rh8,Rg3+,Kf8,Qg5,Qe7,Qg7+,Ke8,Qxh8+,Kd7,Qe5,Rc4,Qb8,Rc7', 'b6,Rc1+,Kh2,Qd8,Qxb7+', 'https://lichess.org/training/NmeHu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NmFZM', 'Rapid', 'dhshchdh', 1734, 'carlkarl', 1725, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bc4,Qc7,Bb3,Nf6,Nc3,Nc6,Bg5,Be7,O-O,O-O,a3,b5,Ba2,Bb7,b4,d5,exd5,exd5,Bxf6,Bxf6,Nxd5,Qd6,Nxf6+,Qxf6,Nxc6,Qxc6,f3,Rfe8,Bb3,Re5,Qd4,Rae8,Rad1,h6,Qf4,R8e7,Rd8+,Kh7,Bxf7', 'Qb6+,Qd4,Qxd4+,Rxd4,Rxf7', 'https://lichess.org/training/NmFZM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NMG0H', 'Rapid', 'Chesstantrum', 1751, 'mahmoudgg', 1790, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,dxc6,Qxd8+,Kxd8,Bc4,f5,exf5,Bxf5,Bb3,a5,a4,b5,O-O,bxa4,Bxa4,Ra6,Nc3,Nf6,Bg5,Ke8,Rfe1+,Kf7,Bxf6,gxf6,Ne4,Bxe4,Rxe4,Bd6,Rae1,Be5,c3,Rc8,R1e3,Rb6,Re2,c5,c4,Rd6,g3,Rd1+,Kg2,Rb1,b3,Rb2', 'Rxe5,Rxe2,Rxe2', 'https://lichess.org/training/NMG0H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nmGpD', 'Blitz', 'Cirilomas98', 2022, 'Uhialfil', 1983, 'e4,c5,c3,e6,d4,cxd4,cxd4,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,Be7,Nf3,O-O,Bd3,Nc6,Be3,Nb4,O-O,Nxd3,Qxd3,b6,a3,Nd5,Rac1,Bb7,Ne5,Rc8,Rxc8,Qxc8,Rc1,Qa8,f3,Rd8,Ne4,f6,Nc4,Ba6,Qd2,Nxe3,Nxe3,Bb7,Nc3,Bd6,Rd1,Qc8,d5,exd5,Nexd5,Bc5+,Kh1,Qe6', 'Nxf6+,Qxf6,Qxd8+,Qxd8,Rxd8+', 'https://lichess.org/training/nmGpD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nmHLf', 'Rapid', 'Chakra2011', 1879, 'kidcuurry', 1930, 'd4,f5,c4,Nf6,Nf3,d6,e3,g6,Nc3,Bg7,Be2,O-O,Qb3,Kh8,O-O,Qe8,h3,e5,d5,e4,Nd2,Nbd7,Nb5,Qd8,Nd4,Nc5,Qc2,g5,b3,a5,Bb2,h5,Nb5,h4,Bc3,g4,hxg4,fxg4,Qb2,h3,g3,Nh5,Bxg7+,Nxg7,Nc3,Nd3,Bxd3,exd3,Nce4,Bf5,Qc3,Qe7,Qd4,Rae8,Nc3,c6,dxc6,bxc6,Nd1,c5,Qc3,Be4,Kh2,Ba8,Rg1,Kh7,Qxd3+,Nf5,Qe2,Nd4,Qxg4,Rh8,exd4,Reg8,Qf5+,Kg7,Ne3,Rf8,Qg4+,Kf7,Qf4+,Ke8,Nf5,Rxf5,Qxf5,Rf8,Qh5+,Kd8,Rae1,Rxf2+,Kxh3,Qd7+,Kh4', 'Rh2+,Kg5,Rxh5+', 'https://lichess.org/training/nmHLf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nMIkW', 'Rapid', 'thompson2067', 1816, 'bigboyPaultje', 1831, 'c4,Nf6,Nc3,d6,g3,e5,Bg2,g6,e3,Bg7,Nge2,O-O,O-O,Nbd7,d4,Rb8,b3,b6,Bb2,Bb7,d5,Nc5,Qc2,Qd7,Rad1,Ng4,h3,Nh6,e4,f5,Bc1,fxe4,Nxe4,Qf5,b4,Nxe4,Qxe4,Qd7,Nc3,Nf5,f4,Nxg3,Qe3,Nxf1,Rxf1,exf4,Qf3,Rbe8,Ne2,g5,h4,h6,Bh3,Qf7,Be6,Rxe6,dxe6,Bxf3,exf7+,Rxf7,Rxf3,Be5,hxg5,hxg5,Kf2,Rh7,Ra3,c6,Kf3,Rh3+,Kg4,Rh2,Rxa7,Rxe2,Kxg5,Bg7,Bxf4,Rg2+,Kf5,d5,cxd5,cxd5,Bd6,Rf2+,Kg6', 'Rf6+,Kg5,Rxd6', 'https://lichess.org/training/nMIkW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nMIpS', 'Rapid', 'mishka13', 1832, 'kuba11111111111', 1868, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,b5,f3,g6,Qd2,Bg7,Be2,O-O,Bh6,b4,Nd5,a5,Nxf6+,exf6,h4,Qb6,Bxg7,Kxg7,h5,a4,hxg6,fxg6,Qh6+,Kf7,Qxh7+,Ke8,Qxg6+,Kd7,Qg7+,Ke8,Bb5+,Nd7,Qg6+,Kd8,Ne6+,Ke7,Bxd7,Qe3+,Kf1', 'Ba6+,Bb5,Bxb5+,c4,bxc3#', 'https://lichess.org/training/nMIpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NMIzj', 'Classical', 'SL1', 1807, 'anhess', 1830, 'd4,d6,e4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg5,Be6,O-O-O+,Nd7,Bxf6+,gxf6,Nd5,Bg7,Kb1,c6,Ne3,Kc7,Nf5,Bf8,Be2,Bc5,f3,Rhg8,g4,Rad8,h4,b5,a3,Nb6,Nh3,Bc4,Bxc4,Nxc4,Kc1,a5,c3,Ne3,Nxe3,Bxe3+,Kc2,Bc5,h5,b4,axb4,axb4,Rxd8,Rxd8,Rd1', 'b3+,Kxb3,Rxd1', 'https://lichess.org/training/NMIzj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NMj3J', 'Classical', 'hitecherik', 1740, 'jameslatham', 1798, 'd4,d5,Bf4,Nf6,e3,e6,c3,c5,Bd3,Qb6,Qe2,c4,Bxc4,dxc4,Qxc4,Qxb2,Qxc8+,Ke7,Bxb8,Qxa1,Qxb7+,Nd7,Ne2', 'Rxb8,Qxb8,Nxb8', 'https://lichess.org/training/NMj3J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NmKcn', 'Rapid', 'rocketmensch', 1681, 'TURRUBIATESVI', 1786, 'e4,e5,Nf3,Nc6,d4,Bb4+,Bd2,Bxd2+,Nbxd2,exd4,Bc4,Nf6,e5,Ng4,Nxd4,Ngxe5,Nxc6,Nxc6,O-O,O-O,Re1,Qf6,Nf3,Qxb2,Bd3,d5,Bxh7+,Kxh7,Ng5+,Kh6,h4,f6,f4,fxg5,fxg5+,Kh7', 'Qh5+,Kg8,g6', 'https://lichess.org/training/NmKcn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NMkH3', 'Rapid', 'dannyappleseed', 1771, 'Romeo219', 1791, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,h3,O-O,d3,h6,a3,a5,Be3,Bxe3,fxe3,d6,O-O,Be6,Nd5,Bxd5,Bxd5,Nxd5,exd5,Ne7,e4,f5,c4,c6,Qb3,Qc7,dxc6,bxc6,c5+,d5,Qc3,fxe4,dxe4,d4,Qc4+,Kh8,Qe6,Rab8,Rab1,Kh7,Nxe5,Rxf1+,Kxf1,Rf8+,Kg1', 'Rf6,Qc4,Qxe5', 'https://lichess.org/training/NMkH3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nmkp3', 'Rapid', 'alwaysmakeaplan', 1787, 'Carliz15', 1724, 'e4,c5,Nf3,d6,Bc4,a6,Nc3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,b5,Bb3,Bb7,O-O,h6,Bh4,g5,Bg3,h5,Nd5,Nxd5,Qxh8,Nf6,f3,Qb6+,Bf2,Qc7,Rad1,O-O-O,Bd4,e5,Qxf6,exd4,Qxd4,d5,exd5', 'Bc5,Kh1,Bxd4', 'https://lichess.org/training/nmkp3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nmlTk', 'Rapid', 'St_Ignatius', 2020, 'Masterpepe', 2210, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,c5,e3,O-O,Be2,d6,O-O,Bg4,h3,Bxf3,Bxf3,Nc6,dxc5,dxc5,Bxc6,bxc6,Qc2,Qc7,b3,Ne4,Bb2,Nxc3,Bxc3,Bxc3,Qxc3,Rfd8,Rad1,e5,Qc2,Qa5,Qb2,Qc7,Qc2,Qa5,Qe2,Rab8,Ra1,Rd2,Qf3,Qc7,Rfd1,Rbd8,Rxd2,Rxd2,Qf6,Rd6,Qf3,Qd7,Qe4,f6,Qf3,Kg7,Re1,Rd2,Re2,Rd1+,Kh2,f5,Rc2,Re1,Re2', 'e4,Rxe1,exf3', 'https://lichess.org/training/nmlTk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NMNH1', 'Blitz', 'guiguedes22', 1743, 'ImmortalPlayer', 1734, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Be3,Nf6,Qd2,e6,O-O-O,Nbd7,N1e2,Bd6,Bf4,Bxf4,Nxf4,O-O,Bd3,Bxd3,Qxd3,Nd5,Nxd5,cxd5,Ne2,a6,f3,Rc8,g4,Rc4,f4,Qc7,g5,Rc8,c3,b5,gxh6,b4,hxg7,bxc3,bxc3,Qa5,Kb2,Rb8+,Ka1,Nf6,h6', 'Qxa2+,Kxa2,Ra4#', 'https://lichess.org/training/NMNH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NMR3f', 'Blitz', 'SouthAfrican_Hyena', 2098, 'Demonpartzer88', 1988, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nf6,Nf3,Nc6,Bf4,Bf5,Bb5,e6,Ne5,Rc8,Bxc6+,bxc6,Ne2,h6,O-O,Bd6,c3,O-O,Ng3,Bh7,f3,c5,dxc5,Bxc5+,Kh1,Qb6,Qd2,Rfd8,Ng4,Nxg4,fxg4,d4,c4,Bd6,b3,Bxf4,Qxf4,Qc7,Qf3,e5,Nf5,Bxf5,gxf5,f6,Qh5,Qf7,Qg4,Re8,Rfe1,Rcd8,Rad1,Qe7,Rd3,Qa3,Rh3,Kh8,Qg6,Qf8,Re4,d3,Reh4,Kg8', 'Rxh6,d2,Rh8#', 'https://lichess.org/training/NMR3f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NmrCO', 'Bullet', 'venci_lovech', 2123, 'Difficult_FD', 2166, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nf6,Bd3,Be7,O-O,O-O,Re1,Bg4,dxc5,Bxc5,Bg5,Nbd7,Nbd2,Qb6,Bh4,Qxb2,Rb1,Qxc3,Rb3,Qa5,Rxb7,Bb6,Qb1,Nc5,Bxf6,Nxb7,Bxh7+,Kh8,Qb2,Kxh7,Bxg7,Rfe8,Re5,Bd4,Qxd4,Bxf3,Qh4+,Kxg7,Qg5+,Kf8', 'Qh6+,Kg8,Rg5#', 'https://lichess.org/training/NmrCO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nMsIB', 'Rapid', 'chingylov', 1786, 'Jzm14', 1747, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Nxd4,Nxd4,Qxd4,Nf6,O-O,Be7,f4,O-O,e5,c5,Qd3,d5,exf6,dxc4,fxe7,cxd3,exd8=Q,Rxd8,cxd3,Rxd3,Nc3,Bf5,Rd1,c4,Rxd3,cxd3,Be3,Re8,Kf2,b6,Rd1,h6,h3,f6,g4,Bh7,f5,Rd8,Ne4,Kf7,h4,h5,g5,Bxf5,Ng3,Bg6,gxf6,gxf6,Kf3,Rc8,Rd2,Rc4,b3,Rxh4,Bf4,Bh7,a4,Rh3,Kg2,Rh4,Kf3,Rg4,Nxh5,Bf5,Rxd3,Rxf4+', 'Nxf4,Bxd3,Nxd3', 'https://lichess.org/training/nMsIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NMueD', 'Blitz', 'WIM mikeesuede', 2160, 'GelReyes_27', 2455, 'e4,e5,Nc3,Nf6,Bc4,Nxe4,Qh5,Nd6,Qxe5+,Qe7,Qxe7+,Bxe7,Bb3,Nf5,Nf3,c6,O-O,d5,d3,Na6,a3,Nc5,Ba2,Be6,Bf4,f6,Rfe1,Kd7,b4,Na6,Re2,g5,Rae1,Bf7,Nd4,gxf4,Nxf5,Bf8,Ne4,dxe4,Bxf7,exd3,Be6+,Kc7,cxd3,Rd8,d4,Nb8,Re4,Bd6,Nh6,Rhf8,Nf7,Rde8,Nxd6,Kxd6,Bf5,Rxe4,Rxe4,Kd5,f3,Kc4,Be6+,Kc3,Rxf4,Na6,Rh4,Re8,Bf5,Re7,Rxh7,Rxh7,Bxh7,Kxd4,Kf2,Nc7,Bg8,Nb5,a4,Nc3,Bb3,b6,h4,Ke5,Ke3,c5,bxc5,bxc5,g4,a5,f4+,Kd6,h5,Ke7,Kd3,Nb1,Ke4,Nd2+,Kf5,Nxb3,h6,Kf7,g5,fxg5,fxg5,c4', 'g6+,Ke7,h7', 'https://lichess.org/training/NMueD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nmufW', 'Blitz', 'Minister_of_finance', 1668, 'baris_erturk', 1717, 'c4,c5,Nc3,Nc6,e3,Nf6,Be2,e6,Nf3,g6,h4,Bg7,b3,b6,Bb2,d5,cxd5,exd5,d4,O-O,dxc5,bxc5,Nd2,d4,Na4,dxe3,fxe3,Qd6,Nf3,Qg3+,Kf1,Ng4,Qe1', 'Nxe3+,Kg1,Qxg2#', 'https://lichess.org/training/nmufW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NMuRM', 'Blitz', 'losernofriends', 1534, 'baiter', 1510, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,Qa5,Bc4,Nxe4,O-O,Nxc3,bxc3,Qxc3,Bb3,Ne5,Qh5,g6,Qe2,Ng4,Ba4+,Kd8,Qb5,Nxe3', 'Qe8+,Kc7,Nb5+,Kb8,Nxc3', 'https://lichess.org/training/NMuRM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NMVCB', 'Rapid', 'DrSheldonCooper', 1824, 'Si73', 1820, 'e4,c5,c4,d6,Nc3,Nf6,g3,a6,Bg2,e5,Nge2,Bg4,d3,Qd7,O-O,Bh3,f4,Bxg2,Kxg2,h5,f5,h4,Bg5,hxg3,Nxg3,Nh7,h4,Nxg5,hxg5,g6,Nd5,Qd8,Nf6+,Ke7,Qg4,Nd7,Nd5+,Ke8,Rf2,Be7,f6,Bf8,b4,cxb4,Nxb4,Nc5,Rd2,Qa5,a3,Nb3,Rad1,Nxd2,Rxd2,Qxa3,Nd5,Qa5,Nf1,Qc5,Nfe3,Qa5,Rb2,Qa1,Nc7+,Kd8,Rxb7,Qh1+,Kf2,Rh4,Qg2,Rf4+,Ke2,Qa1,Nxa8,Qa2+,Ke1,Qa1+,Kd2,Qa2+,Nc2,Qa5+,Rb4', 'd5,Kd1,Bxb4', 'https://lichess.org/training/NMVCB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nMvir', 'Blitz', 'UneChimayBleue', 2264, 'CM tainha', 2285, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,Bb4,Bd3,O-O,O-O,d5,exd5,Bxc3,dxc6,Bb4,cxb7,Bxb7,Bg5,Qd5,f3,e4,Bxf6,exd3,Bc3,Bxc3,bxc3,dxc2,Qxc2,Rac8,Rad1,Qc4,Na5', 'Qc5+,Kh1,Qxa5', 'https://lichess.org/training/nMvir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nMVlD', 'Rapid', 'ilidiomartins', 1681, 'sajalnew', 1709, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,Nf6,Nc3,O-O,d4,exd4,Nxd4,Nxd4,Qxd4,Re8,Re1,Be5,Qd3,c6,Bc4,b5,Bb3,a5,a4,b4,Ne2,Ba6,Qf3,Bxe2,Rxe2,Rc8,Rb1,Qe7,Bg5,h6,Bh4,g5,Bg3,Bxg3,Qxg3,d5,e5,Ne4,Qh3,Qe6,Qxe6,Rxe6,Rbe1,Rce8,c4,Nc5,cxd5,cxd5,Bxd5,R6e7,b3,Nd3,Rd1,Nxe5,Rde1,Ng6,Kf1', 'Rxe2,Rxe2,Rxe2,Kxe2,Nf4+,Ke3,Nxd5+', 'https://lichess.org/training/nMVlD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nmVvk', 'Rapid', 'Ivanhoe123', 1848, 'Jimmsen', 1742, 'd4,b6,Nf3,Bb7,Bf4,d5,e3,Nd7,Bd3,f6,Nbd2,g5,Bg3,Bg7,c3,e5,dxe5,fxe5,h4,e4,Nxg5,exd3', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/nmVvk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nmxCt', 'Rapid', 'ismailbuyuk', 1996, 'daneshi', 2077, 'e4,e5,Bc4,Bc5,d3,Nf6,Bg5,O-O,Nc3,c6,Nge2,d5,exd5,cxd5,Nxd5,Be7,Nxe7+,Qxe7,Nc3,Be6,Ne4,Bxc4,dxc4,Nbd7,Qf3,Qb4+,c3,Qxb2,O-O,Nxe4,Qxe4,Qxc3,Qxb7,Nc5,Qc6,Rac8,Qb5,Nd3,Be7,Rfe8,Bd6,e4,c5,Qd4,Rad1,e3,Rxd3,exf2+,Rxf2', 'Re1#', 'https://lichess.org/training/nmxCt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nMy9i', 'Rapid', 'alitirpan', 2019, 'RagingTiger', 1945, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Be2,g6,h3,Bg7,Nbd2,O-O,b3,Nc6,Bb2,a6,O-O,e6,c4,b6,cxd5,Nxd5,Bc4,Bb7,Ne4,b5,Bxd5,Qxd5,Nc5,Rab8,Nxb7,Rxb7,Rc1,Ne7,Re1,Rd8,Rc5', 'Qxc5,dxc5,Rxd1,Rxd1,Bxb2', 'https://lichess.org/training/nMy9i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nMycy', 'Rapid', 'SerkannMt', 1798, 'BoTinkles', 1849, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d5,e5,Ne4,Nxe4,dxe4,Ng5,f5,Bc4,e6,O-O,Nc6,c3,Qe7,Qb3,Na5,Qb5+,Nc6,Bf4,a6,Qa4,b5', 'Bxb5,axb5,Qxa8', 'https://lichess.org/training/nMycy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nmyMD', 'Blitz', 'BaRBaRYaN', 1678, 'DOCNinja', 1698, 'd4,d5,Bf4,e6,e3,Nf6,c3,c5,Nf3,Qb6,Qc2,Nc6,Nbd2,Bd7,Ne5,Rc8,Ndf3,Be7,Bd3,c4,Be2,O-O,Nxd7,Nxd7,Ne5,Ncxe5,Bxe5,f6,Bg3,e5,Bg4,Rcd8,Bf5,e4,f3,Qc6,fxe4,g6,exd5,Qxd5,Be4,Qg5,O-O-O,Qxe3+,Kb1,Qg5,Rdg1,f5,Bd5+,Kg7,Rf1,Nf6,Bf4,Qg4,h3,Qh5,g4,fxg4,hxg4,Qxg4,Rfg1,Qxf4', 'Rxh7+,Nxh7,Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/nmyMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nMzfm', 'Bullet', 'GM Crest64', 2689, 'GM DrNykterstein', 2957, 'd4,g6,c4,Bg7,Nc3,d6,e4,e5,Nf3,exd4,Nxd4,Ne7,Be2,Nbc6,Be3,O-O,O-O,f5,Nxc6,bxc6,Qd2,Rb8,Rab1,c5,f3,Be6,Rfd1,Nc6,exf5,Bxf5,Bd3,Qh4,b3,Be5,g3,Qh3,Bxf5,Rxf5,Rf1,Nd4,Bxd4,Bxd4+,Kh1,Re8,Nd5,c6,Nf4,Qh6,Rbe1,Rfe5,Qd1,Qg7,Nd3,Re3,Rxe3,Rxe3,Re1,Qe7,Kg2', 'Rxd3,Rxe7,Rxd1', 'https://lichess.org/training/nMzfm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nn01S', 'Rapid', 'Juliovass', 1662, 'Elkapan', 1698, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bb6,a4,Nxb4,c3,d5,exd5,Nxd5,O-O,Bg4,Re1,Qf6,Bxd5,O-O-O,c4,Ne7,Nc3,Bd4,Qb3,c6,Be4,g5,Nxd4,exd4,Rb1,Rd7,Ne2,h5,Nxd4,Qxd4,Bb2,Qxd2,Bxh8,f5,Bc3,Qf4,Bxc6,Nxc6,Re8+,Kc7,Qxb7+,Kd6,Bb4+,Nxb4,Qxb4+,Kc6,Re6+,Kc7,Qb7+,Kd8,Qb8+,Qxb8,Rxb8+,Kc7,Rb1,f4,Rg6', 'Bf5,Rxg5,Bxb1', 'https://lichess.org/training/nn01S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nN2b5', 'Blitz', 'liner91', 2079, 'MemphisMade', 2137, 'd3,f5,Nd2,Nc6,e4,e5,Be2,Nf6,exf5,d5,Bh5+,Ke7,Qe2,Bxf5,g4,Nd4,Qd1,Bg6,c3,Nxh5,cxd4,Nf4,Ngf3,Nxd3+,Kf1,e4,Ne5,Nxe5,dxe5,Qd7,Qb3,c6,Ke2,Qxg4+,Ke1,Rb8,Nf1,Qg2,Ng3,Ke6,Be3,h5,Kd2,a5,Ne2,Bb4+,Kc2,Qf3,Nf4+,Kf5,Rhg1,d4,Rg3,d3+,Nxd3,Qe2+,Kb1,exd3', 'Rg5+,Ke4,Qc4+,Kf3,Rg3#', 'https://lichess.org/training/nN2b5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nn3Ig', 'Rapid', 'licoricetwist', 1682, 'ChosenWun', 1655, 'd4,d5,Nf3,c5,e3,cxd4,exd4,Nc6,Nbd2,Bg4,Be2,Nf6,O-O,e5,dxe5,Ne4,Bb5,Qb6,Nxe4,dxe4,Be2,exf3,Bxf3,Bxf3,Qxf3,Nxe5,Qd5,Bd6,Re1,f6,Bf4,O-O-O,Qe6+,Kb8,Rad1,Rhe8,Qh3,Qxb2,Bxe5,Bxe5,Rb1,Qxc2,Qf3,Rd7,Rec1,Qd3', 'Rxb7+,Rxb7,Qxd3', 'https://lichess.org/training/nn3Ig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nN3tK', 'Blitz', 'Koblihoun', 1723, 'fixunchained', 1667, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,Be6,Bb5+,Nc6,d4,cxd4,Nxd4,Rc8,O-O,a6,Ba4,g6,Nxe6,fxe6,Bg5,Bg7,Re1,O-O,Bb3,Qd7,Rb1,Kh8,Re3,Ng4,Rg3,Nf6,Bxf6,exf6,Qg4,Nd4,Rd1,Nxb3,axb3,f5,exf5,exf5,Qb4,Be5,Re3,Qg7,f4,Bxf4,Qxf4,g5,Qxd6,Rcd8,Qe5,Rxd1+,Nxd1,Qxe5,Rxe5,Rc8,c3,Rd8,Ne3,Rd3,Nxf5,Kg8,Kf2,Rd2+,Ke3,Rxg2,Nh6+,Kg7,Nf5+,Kg6,h3,Rxb2,b4,Rh2,h4,Rh3+,Kf2,gxh4,Ne7+,Kf6,Re2', 'Rh2+,Kf3,Rxe2,Nd5+,Ke5', 'https://lichess.org/training/nN3tK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nn5Zp', 'Rapid', 'Gustavozxc', 2135, 'cricri44', 1633, 'f4,c6,e3,d5,Nf3,e6,b3,Bd6,Bb2,f6,Nc3,Bd7,Bd3,Nh6,O-O,O-O,Ne2,e5,fxe5,fxe5,e4,d4,Ng3,Bg4,h3,Bd7,c3,c5,cxd4,cxd4,Rc1,Nc6,Bc4+,Kh8,Bd5,Rb8,d3,Nb4,Ba3,Nxd5,Bxd6,Ne3,Qe1,Nxf1,Nxf1,Rxf3,Bxb8,Qg5,Qd2', 'Rxf1+,Rxf1,Qxd2', 'https://lichess.org/training/nn5Zp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nn7DM', 'Rapid', 'Varios200', 1752, 'cocal49', 1681, 'd4,d5,Bf4,Nc6,Nf3,Bg4,e3,Bxf3,Qxf3,e6,Bd3,Be7,Nd2,Bb4,c3,Be7,Qg3,Bf6,Bxc7,Qc8,Nf3,Nge7,O-O,O-O,Be5,Bxe5,Nxe5,Nxe5,Qxe5,f6,Qg3,f5,Rac1,Qb8,Qh4,Qd6,f4,Ng6,Qe1,a6,c4,Qb6,Rf2,Qd6,cxd5,exd5,Rfc2,Ne7,Qa5,g6,Rc5', 'b6,Qd2,bxc5', 'https://lichess.org/training/nn7DM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NN7IX', 'Blitz', 'Night_life', 2064, 'jnaser', 2067, 'b4,e5,Bb2,d6,c4,Be6,e3,Nf6,Nc3,Be7,Qc2,O-O,Nf3,Nbd7,Ne2,b6,Ng3,c5,a3,a5,bxa5,bxa5,Ng5,h6,h4,Rb8,f4,exf4,Nh5,fxe3,Bxf6,exd2+,Kf2,Nxf6', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/NN7IX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nn8w1', 'Blitz', 'NM frostbitten', 2337, 'fiscalchess', 2188, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Nbd7,O-O-O,Qc7,g4,b5,Bg2,Bb7,Bxf6,Nxf6,g5,Nd7,Rhe1,O-O,h4,Nc5,f5,exf5,Nxf5,f6,Nd5,Bxd5,exd5,fxg5,Qg4,Bf6,hxg5,Be5,Rxe5,dxe5,d6,Qd7,Bxa8,Rxa8,g6,hxg6,Qxg6,Ne6,Ne7+,Kf8,Qf5+,Ke8,Rh1,Qxd6,Rh8+,Kxe7,Rxa8,Qc6,Ra7+,Kd6,Qd3+,Nd4,Rxg7', 'Qh1+,Qd1,Qh6+', 'https://lichess.org/training/Nn8w1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NN8w6', 'Rapid', 'mikeraya', 2132, 'syl1', 1825, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,c3,d5,exd5,Nxd5,Bg5,Qd6,a4,a5,Na3,Bxa3,Rxa3,Nb6,Bb3,Be6,Bc2,f6,Bc1,Rfd8,Ra1,Ne7,h3,Rd7,Qe2,Rad8,b3,Ned5,Bb2,Nf4,Qe3,Nbd5,Qe1,Nxh3+,gxh3,Bxh3,Kh2,Bxf1,Qxf1,e4+,Kh1,exf3,Qh3,Qf4,d4,Qh6,Qxh6,gxh6,Be4,c6,Bxf3,Re7,Rg1+,Kf7,Bc1,Rde8,Bxh6,Re1', 'Bh5+,Ke7,Rxe1+', 'https://lichess.org/training/NN8w6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nn9hz', 'Rapid', 'panadol704', 1757, 'frodosm', 1745, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,h6,Qf3,Nc6,c3,Na5,Bd5,c6,Bb3,Nxb3,axb3,d5,exd5,cxd5,Ne2,O-O,O-O,b6,Qg3,Qd6,Bxh6', 'Nh5,Qg5,Qxh6,Qxh6,gxh6', 'https://lichess.org/training/nn9hz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNA37', 'Rapid', 'Murzillka', 1847, 'senolmazrek', 1729, 'e4,g6,d4,Bg7,f4,b6,Nf3,Bb7,Nc3,e6,Bd3,d6,Be3,Ne7,Qd2,Nd7,a4,a5,Nb5,Nf6,e5,dxe5,fxe5,Nfd5,Bh6,Nf5,Bxg7,Nxg7,g4,Nb4,Be2,O-O,c3,Nd5,O-O-O,Bc6,h4,Qe7,h5,gxh5,Qh6,f6,Rxh5,Nxh5,gxh5,Qg7', 'Rg1,Qxg1+,Nxg1', 'https://lichess.org/training/nNA37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NNafS', 'Blitz', 'maotunstar', 1519, 'xy-Math', 1831, 'e4,Nf6,Nc3,d5,d4,dxe4,Bc4,e6,f3,exf3,Nxf3,Bd7,O-O,Bc6,Bg5,Be7,Bxf6,Bxf6,d5,exd5,Nxd5,O-O,Nxf6+,Qxf6,c3,Nd7,Nd4,Qg6,Nxc6,Qxc6,Bd5,Qb6+,Kh1,Rad8,Qf3,Ne5,Qf5,Rxd5,Rae1,Nd3', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/NNafS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NNAxu', 'Classical', 'RadivojeDjedovic', 2013, 'mas2020', 1759, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Bg4,Be2,Nd7,O-O,Ngf6,Bg5', 'Bxf3,Bxf3,Qxg5', 'https://lichess.org/training/NNAxu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NNaYX', 'Rapid', 'vazchand', 1651, 'Qazwsx72', 1710, 'c4,d6,Nc3,c6,d4,Nf6,g3,d5,cxd5,cxd5,Bg2,e6,Nf3,Bd7,O-O,Bd6,Bg5,O-O,Ne5,Be8,e4,Nbd7,exd5,Nxe5,dxe5,Bxe5,dxe6,fxe6,Qb3,Bf7,Qxb7,Rb8,Qxa7,Rxb2,Ne4,Bg6,Rad1,Qb8,Qa6,Nxe4,Qxe6+,Bf7,Qg4,Nxf2,Rxf2,Rxf2,Kxf2,Qb2+,Kg1,Qxa2,Qf5,Qe2,Bf3,Qb5,Bf4', 'Bd4+,Rxd4,Qxf5', 'https://lichess.org/training/NNaYX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NnbIn', 'Blitz', 'Lifi123', 1635, 'AhsanulWahid', 1735, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bb5+,c6,Be2,Be7,O-O,O-O,d4,d5,Qd3,Bf5,Ng5,Bxg5,Bxg5,Qxg5,Nc3,Nxf2,Qf3,Ne4,Qxf5,Qe3+,Kh1,Nxc3,bxc3,Qxe2,Rae1,Qb5', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/NnbIn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNcF7', 'Rapid', 'Alireza02', 1625, 'Ravi110208', 1622, 'd4,d5,Nc3,e6,e4,Bb4,Bd2,Bxc3,Bxc3,dxe4,Qg4,Qf6,Qxe4,Ne7,O-O-O,O-O,Kb1,Nbc6,d5,Qg6', 'Qxg6,hxg6,dxc6', 'https://lichess.org/training/nNcF7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nnDir', 'Rapid', 'Ioann_G', 1669, 'gmseagull', 1711, 'e4,e6,Nc3,d5,d4,c6,f4,Be7,Nf3,Nh6,f5,exf5,Bxh6,gxh6,exd5,Bb4,Qe2+,Qe7,Qxe7+,Kxe7,Bd3,cxd5,O-O,Bxc3,bxc3,Be6,Rfe1,b6,Bxf5,Nc6,Bd3,Kd6,Nd2,Ne7,c4,dxc4,Nxc4+,Bxc4,Bxc4,Nd5,Be2,Rae8,c4,Nf4,c5+,bxc5,dxc5+,Kxc5,Rac1+,Kb4', 'Rc4+,Ka3,Rxf4', 'https://lichess.org/training/nnDir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNEke', 'Rapid', 'Y30000', 1879, 'Favorit07', 1837, 'e4,e5,f4,Bc5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Bg4,Qd3,Bxd4,Qxd4,Nc6,Bb5,O-O,Bxc6,bxc6,O-O,Re8,f5,c5,Qd3,d5,Nxd5,Nxd5,exd5', 'Be2,Qc3,Bxf1', 'https://lichess.org/training/nNEke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NNeuZ', 'Classical', 'CleanCode', 1728, 'marty001', 1693, 'e4,c5,Nc3,g6,d3,Bg7,Bd2,d6,f3,Nf6,Nge2,Nc6,h3,O-O,g4,e6,a3,Ne5,Bg2,Qb6,Na4,Qa6,b3,b5,Nac3,Qb6,f4,Nc6,Be3,Nd7,Qd2,a5,Rb1,Nd4,Bxd4,cxd4,Nd1,Bb7,Ng3,Rac8,Rb2,e5,O-O,f6,h4,Bh6,g5,fxg5,hxg5,Bg7,f5,gxf5,Nxf5,Qc7,Ne7+,Kh8,Nxc8,Qxc8,Qe2,Rxf1+,Bxf1,Qd8,Qh5,d5,Nf2,dxe4,Nxe4,Bxe4,dxe4,Qf8,Bxb5,Nc5,g6,h6,Bd3,Nxd3,cxd3,Qf4,Kg2,Qc1,Qe2,Qg5+,Kf1,Qxg6,b4,axb4,axb4,Bf8,b5,Bc5,Qh2,Qf6+,Ke1,Qg5,b6', 'Qc1+,Kf2,Qxb2+', 'https://lichess.org/training/NNeuZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNFDQ', 'Blitz', 'azmie', 2020, 'titaut', 2022, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf5,Bxf5,exf5,Be7,Bc4,Nc6,O-O,O-O,f4,a6,fxe5,Nxe5,Bb3,Qb6+,Kh1,Rad8,Bg5,Kh8,Bxf6,Bxf6,Nd5,Qc6,Nxf6,gxf6,Rf4,Rg8,Qe2,Rg7,Raf1,Rdg8,Rh4,Rxg2,Qe4,Ng4,Qxc6', 'Nf2+,Rxf2,Rg1#', 'https://lichess.org/training/nNFDQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNfSr', 'Classical', 'Sailxe42', 1698, 'kosmoschess', 1706, 'd4,d5,Bf4,e6,e3,a6,c3,Qd7,Nd2,f6,Bd3,h5,h4,Qc6,Be2,Qb6,b4,Nh6,Bxh5+,Nf7,a3,g5,Bh2,gxh4,g3,hxg3,Bxg3,Ke7,Bf4,Nc6,Rc1,e5,dxe5,Nfxe5,Bxe5,Nxe5,Nb1,Bg4,Bxg4,Rxh1,Kf1,Nxg4,Qxg4,Rh6,c4,dxc4,Qxc4,Qb5,Qxb5,axb5,Rxc7+,Kd6,Rxb7,Kc6,Rf7,Bd6,Ke2,Rh1,Rg7,Be5,Rg6,Kd6,f4,Bb2,e4,Ke6,Rg3,Rh2+,Kf3,Bxa3,Nc3,Rb8,Nd5,Rd8,Rg6,Rf8,Rg7,Rf7', 'f5+,Ke5,Rxf7', 'https://lichess.org/training/nNfSr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NnfyN', 'Rapid', 'lupettobianco', 2079, 'DuMKa_c_3aBoga', 2117, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,g6,d3,Bg7,Be2,Nf6,O-O,O-O,Qe1,a6,Qh4,b5,Rb1,Bb7,Ng5,h6,Nh3,Nd4,Bd1,Nh7,f5,g5,Qe1,e6,g4,Qc7,Ne2,d5,Ng3,Rae8,c3,Nc6,Nh5,Bh8,Be3,d4,cxd4,Nxd4,Rc1,Qd6,Qd2,Nf6,Bxg5,Nxh5,Bxh6,Nf6,Qg5+,Kh7,Bxf8,Qxf8,fxe6,Rxe6,Qh4+,Kg8,Ng5,Qg7,Nxe6,Nxe6,h3,Nd7,Rf5,Qxb2,Rc2,Qa1,Qe1,Kf8,Kg2,Nd4,Rcxc5,Nxc5,Rxc5,Qb2+,Kg3,Ne6,Rf5,Be5+,Kh4,Bf6+,g5,Be7,Qf1,Qg7,Bh5,Bxg5+,Kg3,f6,Bg4,Qh6,e5,Qh4+,Kh2,Ke7,exf6+,Bxf6,Qe2,Bc8', 'Rh5,Qxh5,Bxh5', 'https://lichess.org/training/NnfyN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nng0a', 'Classical', 'dhruv181', 1720, 'ChessPokerVod', 2087, 'e4,d6,Nc3,g6,d4,Bg7,Nf3,Nf6,Bg5,O-O,Bd3,Nbd7,O-O,e5,d5,Nc5,b4,Nxd3,Qxd3,h6,Bh4,a6,h3,b6,Ne2,a5,c3,Ba6,Qe3,Qe8,Bxf6,Bxf6,Qxh6,Bg7,Qh4', 'Bxe2,Ng5,Bh5', 'https://lichess.org/training/Nng0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NNgka', 'Classical', 'Bobby_Fisher2008', 1739, 'Salty_Fat_Slob', 1846, 'e4,e6,d4,h6,c4,Be7,Nc3,Nf6,Nf3,b6,Bd3,Bb7,h3,Nh7,Qc2,Ng5,d5,Nxf3+,gxf3,exd5,Nxd5,Bxd5,cxd5,d6,f4,Nd7,Bb5,a6,Bc6,Rb8,e5,O-O,e6,fxe6,dxe6,Nf6,Be3,d5,O-O-O,Qd6,Bd4,Qxf4+,Kb1,Rbd8,Bxf6,Qxf6,Bxd5,Rd6,Rhg1,Rfd8,Bb3,Rxd1+,Rxd1,Rxd1+,Qxd1,Qxf2,Qd7,Qc5', 'Qe8+,Kh7,Bc2+,Qxc2+,Kxc2', 'https://lichess.org/training/NNgka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nnH6k', 'Rapid', 'antonpai', 1635, 'shivprasad123s', 1635, 'd4,c5,c3,Nf6,b4,cxd4,cxd4,e6,a3,Nc6,Bb2,Qb6,Nf3,d5,e3,Bd6,Be2,O-O,b5,Ne7,a4,Nf5,O-O,Qc7,Nbd2,Ne4,Ne5,Nxd2,Rc1,Qa5,Bc3,Bb4,Bxd2,Bxd2,Rc2,Bxe3,fxe3,Nxe3,Qc1,Nxc2,Qxc2,f6,Ng6,hxg6,Qxg6,f5,Bd3,Qd2,Rf3,Qh6,Qg3,f4,Qf2,b6,Rh3,Qf6,Qf3,Kf7,Qh5+,Ke7,Qf3,Bb7,Bf1,Qxd4+,Kh1,Qe4,Qa3+,Kd7,Kg1,f3,Rxf3,Rxf3,gxf3,Qg6+,Bg2,Rf8,Qxf8,Qb1+,Bf1,Qg6+,Kh1,d4,Bg2,Qf6,Qa3,Bd5,Qd3,g6,Kg1,Qf5,Qxf5,gxf5,Kf2,Kd6,Ke2,Kc5,Kd3,Kb4,Kxd4,Kxa4,h3,Kxb5,h4,Bc6,Ke5,Be8,Kxe6,a5,f4,a4,Bd5,Kc5,Ke5,a3,Ba2,b5,Kxf5,b4,Ke5,Bh5,f5,Kb5,f6', 'Ka4,Bc4,b3', 'https://lichess.org/training/nnH6k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNiv9', 'Blitz', 'HBsen', 2356, 'Edik_Med', 2315, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Nc6,Bf4,g6,Nd2,Bg7,Ngf3,O-O,O-O,Bf5,Bxf5,gxf5,Qb3,Qb6,Qxb6,axb6,Bc7,b5,Nb3,Ne4,Rfe1,e6,Bb6,b4,Nfd2,bxc3,Nxe4,cxb2,Rab1,fxe4,Rxb2,Ra6,Bc5,Rfa8,a3,b6,Bd6,Nxd4,Nxd4,Bxd4,Rb3,Bc5', 'Rg3+,Kh8,Be5+,f6,Bxf6#', 'https://lichess.org/training/nNiv9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NNlFs', 'Rapid', 'CheckersMan', 1935, 'Wilson4575', 1735, 'd4,g6,c4,Bg7,Nc3,d6,e4,e6,Nf3,Nc6,Be2,Nf6,O-O,h5,Bg5,Qd7,a3,Nh7,Bh4,g5,Nxg5,Bf6,Nxh7,Bxh4,g3,Rxh7,gxh4,Qe7,Kh1,Qxh4,f4,e5,dxe5,dxe5,f5,Nd4,Bf3,Rg7,Nd5,f6,Nxc7+,Rxc7,Bxh5+,Ke7,Rg1,Qxe4+,Rg2,Bxf5,Kg1,Qe3+,Kh1,Be4,Qg4,Bxg2+,Qxg2,Qg5,Bg4,f5,Re1,Qxg4,Rxe5+,Ne6,Qd5,Qxc4,Rxe6+,Kf8,Rf6+,Kg7,Rf7+,Kh8', 'Qe5+,Kg8,Qg7#', 'https://lichess.org/training/NNlFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNmO6', 'Rapid', 'MuhammedAlnajjar', 1957, 'eyadmfayyumi', 1883, 'Nf3,d5,d4,Nc6,c4,e6,Nc3,h6,a3,Nf6,e3,Be7,Qc2,O-O,Bd3,dxc4,Bxc4,a6,O-O,Nd5,Ba2,Nxc3,bxc3,Bd6,Bb1,f5,Bb2,Ne7,Ba2,Ng6,Rad1,Nh4,Ne5,Qg5,f4,Qh5,d5,Bxe5,fxe5,Qg4,dxe6,Re8,e7+,Kh8,Rf4,Qg5,Rdf1,Qxe7,g3,Ng6,Rxf5,Bxf5,Qxf5,Nxe5,c4,c5,Bb1,g6,Qxg6,Qg7,Qh5,Re6,Rf7,Qg5,Bxe5+,Qxe5', 'Rh7+,Kg8,Qf7#', 'https://lichess.org/training/nNmO6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NnMVk', 'Rapid', 'proshyan11', 1802, 'kolkhoz', 1841, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Nc6,d4,e5,d5,Ne7,Nf3,f6,Ba3,Ng6,Bxf8,Rxf8,Bb5+,Bd7,Bxd7+,Qxd7,Qb3,b6,O-O,a5,a4,Nf4,Rfe1,Qg4,Qb5+,Kf7,Nh4,Qxh4,Qd7+,Kg6,Qf5+,Kf7,g3,g6', 'Qd7+,Kg8,gxh4', 'https://lichess.org/training/NnMVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNoH0', 'Blitz', 'Acerb8', 1596, 'Ciro_Bravo', 1572, 'e4,e5,Nc3,Nf6,f4,d6,Nf3,Bg4,fxe5,Bxf3,Qxf3,dxe5,Bb5+,c6,Bc4,Bb4,O-O,Nbd7,Ne2,b5,Bd3,O-O,c3,Ba5,b4,Bb6+,Kh1,a5,Bb2,axb4,cxb4,c5,Bxb5,cxb4,a3,bxa3,Bxa3,Re8,Bd6,Rxa1,Rxa1,Re6,Bb4,Bd4,Nxd4,exd4,d3,Rb6,Ra5,Ne5,Qf5,Nxd3,e5,Nxb4,exf6,gxf6,Bd3,Re6', 'Qxh7+,Kf8,Qh8+,Ke7,Ra7+,Qd7,Rxd7+', 'https://lichess.org/training/nNoH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nnPLQ', 'Rapid', 'lekmanmujiadi', 1948, 'Aguedo_Escano', 1950, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Qc7,O-O,Nf6,Nc3,e6,Bg5,Be7,Qf3,O-O,e5,dxe5,Nxc6,bxc6,Bxc6,Rb8,Bxf6,Bxf6,Ne4,Be7,b3,Rb6,Ba4,Bb7,Qg4,f5,Qh3,fxe4,c4,Bc6,Qxe6+,Kh8,Bxc6,Rxc6,Qg4,Rcf6,Qxe4,Bc5,Rad1,Rxf2,Rxf2,Rxf2,Kh1,Rf8,h3,Bd4,a4,h6,Qd3,a6,b4,Rc8,c5,a5,bxa5,Qxa5,Qf5,Qxc5,Rf1,Qc4,a5,Bc5,Qxc8+,Kh7,Qf5+,Kh8,Qxe5,Qxf1+,Kh2,Qg1+,Kg3,Qf2+,Kh2,Qg1+,Kg3,Bf2+,Kf3,Qe1', 'Qxe1,Bxe1,a6', 'https://lichess.org/training/nnPLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNPqf', 'Rapid', 'Glirakus', 2098, 'wilce', 1960, 'c4,e5,Nc3,Nf6,e3,Bc5,d4,exd4,exd4,Bb4,Nf3,O-O,Be2,d6,O-O,Nc6,a3,Bxc3,bxc3,Bf5,Bd3,Bg4,Qc2,Bxf3,gxf3,Qd7,Kh1,Qh3,Rg1,Qxf3+,Rg2,Qh5,Bg5,Kh8,Rag1,Rg8,Rg3,Rae8,Bf1,Ne4,Rh3,Qg6,Bf6,Qxf6,f3,Ng5,Rxg5,g6,Rg4,Re3,Qf2,Rxc3,Rgh4,Rg7,Qe1,Rxf3', 'Qe8+,Rg8,Rxh7#', 'https://lichess.org/training/nNPqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NnqAp', 'Rapid', 'John3', 1673, 'TheOperation', 1638, 'd4,e6,e3,d5,Bd3,Nf6,Nf3,Nc6,Nbd2,Bd6,Nf1,O-O,Ng3,Re8,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,f4,Bd6,Nh5,Nxh5,Qxh5,Re6,Qxh7+,Kf8,f5', 'Rh6,Qxh6,gxh6', 'https://lichess.org/training/NnqAp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nnqpM', 'Rapid', 'zappero', 1948, 'dr_zoydberg', 1734, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,Na5,Bd3,exd4,cxd4,b6,O-O,Bb7,Nc3,Nf6,e5,Nd5,Nxd5,Bxd5,Qc2,Bxf3,gxf3,c5,d5,c4,Be4,d6,e6,g6,exf7+,Kxf7,Bb2,Bf6,Rae1,Bxb2,Qxb2,Qd7,Qd2,Rae8,Re3,Qd8,Kh1,Qg5,Rg1,Qf4', 'Bxg6+,hxg6,Re7+,Kxe7,Qxf4', 'https://lichess.org/training/nnqpM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNTDR', 'Rapid', 'advait3000', 1941, 'gmattia', 1886, 'd4,e6,Bf4,Nf6,e3,Bd6,Bg3,Qe7,Bd3,Nc6,Nf3,e5,dxe5,Nxe5,Nxe5,Bxe5,c3,d6,Nd2,Bxg3,hxg3,Bg4,Be2,Bxe2,Qxe2,O-O-O,O-O-O,Qe6,Kb1,g6,Rh4,h5,Rb4,Rhe8,Qb5,Qd5,Qa4,a6,Nc4,b5,Qxa6+,Qb7,Qa3', 'Qe4+,Kc1,bxc4,Qa6+,Kd7', 'https://lichess.org/training/nNTDR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NNuSp', 'Rapid', 'krequs', 2021, 'Dmytro-Sytro', 1903, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qa4,Nd5,Qe4,Nb6,Nc3,Bg7,Bf4,O-O,Bb5,f6,O-O,fxe5,Bxe5,Nxe5,Nxe5,d5,Nxd5,Qxd5', 'Bc4,e6,Bxd5', 'https://lichess.org/training/NNuSp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNXDw', 'Blitz', 'CM CAMPOE', 2238, 'itspolchess', 1872, 'd4,d5,Bg5,f6,Bd2,e5,e3,Nc6,Bb5,Bd7,Nc3,Nge7,f4,a6,Be2,exd4,exd4,Nxd4,Bh5+,g6,Be3,Nxc2+,Qxc2,gxh5,Rd1,c6,Nf3,Qc7,O-O,O-O-O,Na4,Nf5,Bb6,Qxf4,Bxd8,Kxd8,Nb6,Ne3,Qc1,Bh6,Nxd7,Kxd7,Qc5,Nxd1,Rxd1,Qe3+,Qxe3,Bxe3+,Kf1,Re8,Nh4,Ke6,Rd3,d4,Ke2,Rg8,g3,Ke5,Kf3,c5,Rb3,b5,a4,Rb8,Ng2,c4,Ra3,b4,Ra1,Bd2,Ke2,c3,bxc3,bxc3,Kd3,Rb2,Nh4,Bg5,Nf3+,Kf5,Nxd4+,Ke5,h4,Bh6,Kxc3,Rg2,Kc4,Rxg3,Re1+,Re3,Rf1,Re4', 'Rf5+,Kd6,Rxf6+', 'https://lichess.org/training/nNXDw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nnxu9', 'Rapid', 'IlCastratore', 1952, 'MrAverage', 1927, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bd6,Bg5,c6,Bd3,O-O,O-O,Bg4,h3,Bh5,g4,Bg6,Ne5,Bxd3,Qxd3,h6,Bh4,g5,Bg3,Nbd7,f4,c5,fxg5,cxd4,Qxd4', 'Bc5,Qxc5,Nxc5', 'https://lichess.org/training/Nnxu9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nny74', 'Rapid', 'myron1950', 1905, 'Khumaedi', 1981, 'd4,e5,dxe5,d6,exd6,Bxd6,Nf3,Nc6,Bg5,Nf6,e3,Qe7,Bd3,Bg4,O-O,Ne5,Nbd2,h6,Bh4,g5,Bg3,O-O-O,h3,Bh5,Qe1,Nxf3+,Nxf3,g4,Bf5+,Kb8,hxg4,Bxg4,Bxd6,Qxd6,Rd1', 'Qxd1,Qxd1,Rxd1,Rxd1,Bxf5', 'https://lichess.org/training/Nny74');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nNzLT', 'Blitz', 'KaizenCEKL', 1568, 'Dilemmachess', 1548, 'b4,e5,Bb2,Bxb4,Bxe5,Bf8,Bb2,Nc6,e3,d5,d4,Be6,Nf3,h6,Be2,Nf6,O-O,Bd6,Nbd2,O-O,c4,dxc4,Nxc4,Bxc4,Bxc4,Nh7,Qd3,Qf6,Rab1,Nb4,Qc3,Nc6,Qb3,Na5,Qb5,Nxc4,Qxc4,a6,Nd2,Ng5,h4,Ne6,Ne4,Qxh4,Nxd6,cxd6,Qc3,Qf6,Qb3,Ng5,Qxb7,Rab8,Qxa6,Qg6,Qe2,Rfe8,Ba3,d5,Rxb8,Rxb8,Bc5,Nh3+,Kh1,Ng5,a3,Ne4,Bb4,Qf6,Qf3,Qh4+,Qh3,Qf6,f3,Ng5,Qg3,Rc8,Bc5,Ra8,Qe5,Qg6,Qxd5', 'Qh5+,Kg1,Nh3+,Kh2,Qxd5', 'https://lichess.org/training/nNzLT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('no0Wc', 'Rapid', 'ToxicLeo', 1652, 'rehanwajid', 1651, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,Re1,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,Qe7,Qxc3,Nf6,e5,Nd5,Qb2,b6,e6,d6,Bxh6,Rxh6,Nc3,Rxe6', 'Nxd5,Rxe1+,Rxe1', 'https://lichess.org/training/no0Wc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NO3sH', 'Rapid', 'Nightwalker08', 1979, 'W_White', 1733, 'e4,e5,d4,exd4,Bc4,Nc6,h4,g6,Qe2,Qf6,Nf3,d6,a4,Bg4,Bd5,Bxf3,Bxc6+,bxc6,Qxf3,Qxf3,gxf3,O-O-O,h5,Nf6,Bg5,Be7,Nd2,Rde8,hxg6,hxg6,Rxh8,Rxh8,O-O-O,Kd7,Nc4,Rh5,Bxf6,Bxf6,f4,Rh4,e5,Bg7,Rxd4,Ke6', 'f5+,gxf5,Rxh4', 'https://lichess.org/training/NO3sH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('no4iZ', 'Blitz', 'FM eksponat777', 2219, 'Gowez', 2181, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,c6,Qc2,Nbd7,Bd3,a6,cxd5,cxd5,Nf3,b5,O-O,Bb7,Rfc1,Rc8,Qe2,h6,Bh4,O-O,h3,Ne4,Bxe7,Qxe7,Bxe4,dxe4,Nd2,f5,Qh5,e5,Nb3,f4,d5,Nf6,Qg6,Nxd5,Nxd5,Bxd5,Rd1,Rf6,Qg4,Be6,Qh5,Rc2,Qxe5,fxe3,Nd4,Rfxf2,Nxc2,Rxg2+,Kxg2', 'Bxh3+,Kxh3,Qxe5', 'https://lichess.org/training/no4iZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nO60n', 'Classical', 'RicardoMassad', 1738, 'MiniPuzzleKid', 1699, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,Qc2,O-O,h3,d6,a4,a5,d3,Be6,Nbd2,Qe7,O-O,Rfb8,Bb5,Na7,Bc4,d5,exd5,Bxd5,Bxd5,Nxd5,Re1,Bd6,d4,f6,Nc4,Nc6,Nh2,Qd7,dxe5,Nxe5,Nxe5,Bxe5,Nf3,Bd6,Rd1,Nb6,c4,Qc6,b3,Re8,Be3,Nd7,c5,Bxc5,Bxc5,Qxc5,Qd3,Ne5,Nxe5,Qxe5,Rac1,Red8,Qc4+,Kh8,Rxd8+,Rxd8,Qxc7', 'Rd1+,Rxd1,Qxc7', 'https://lichess.org/training/nO60n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('no7aq', 'Rapid', 'EzequielGuti', 2213, 'tbunji', 2163, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Qe2,Bc5,O-O,d6,c3,Bg4,d3,O-O,h3,Bh5,Rd1,b5,Bb3,Na5,Bc2,Bb6,Nbd2,c5,Nf1,Qd7,g3,h6,g4,Bg6,Ng3,Rfe8,Nf5,d5,Be3,d4,Bd2,c4,cxd4,exd4,Bxa5,Bxa5,N3xd4,cxd3,Bxd3,Rad8,Nxb5,axb5,Bxb5,Qb7,Bxe8,Rxe8,Nd6,Qe7,Nxe8,Qxe8,e5,Ne4,Rd5,Bb6,Rf1,Qc6,Qb5,Qc7,Rd7,Qb8,a4,Kh7,a5', 'Bxf2+,Rxf2,Qxb5', 'https://lichess.org/training/no7aq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NO94z', 'Rapid', 'Lesnick86', 1796, 's50x50', 1873, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,c4,Bd6,Nd4,O-O,g3,Bg4,Qe3,Be5,Bg2,c5,Nb3,b5,Bxe4,bxc4,Nxc5,Re8,f3,Bh5,Nc3,Nbd7,b3,Nxc5,Qxc5,Bxc3,dxc3,Nxe4,fxe4,Rxe4+,Kf2,Qf6+,Bf4,Qxc3,Rhe1,Qc2+,Kf1,Be2+,Kg1,Bd3,bxc4,Rxc4,Qb5,h6,Qb7,Rac8,d6,g5', 'd7,Rd8,Re8+', 'https://lichess.org/training/NO94z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nO9Ls', 'Rapid', 'petechynskiy', 1972, 'lennienator', 1892, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,g3,Bc5,e3,Ngxe5,Nxe5,Nxe5,Qc2,Nf3+,Ke2,Qf6,Bg2,Ng5,h4,Ne6,Nc3,Qe5,Nd5', 'Nd4+,Kd3,Nxc2', 'https://lichess.org/training/nO9Ls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nOamb', 'Classical', 'DanBeardzarian', 2246, 'gokselgoktas', 1660, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,Nc6,Nf3,Bg4,d5,Bxf3,Qxf3,Nd4,Qd1,c5,Bd3,O-O,O-O,Nd7,Be3,a6,Ne2,Nxe2+,Qxe2,Nb6,Rae1,Na4,b3,Nc3,Qf2,b5,Rc1,bxc4,bxc4,Rb8,Rc2,Na4,h3,Nb2,Be2,Rb4,Rb1,Qb6,Bd2,Bd4,Be3,Bg7,Kh2,Rb8,Bc1,Na4,Rxb4,Qxb4,Bf1,Qb1,Be3,Rb2,Rxb2,Bxb2,Qf3,Qxa2,e5,Nb6,exd6,exd6,Qe4,Qb3,Kg1,a5,f5,Be5,fxg6,hxg6,h4,Qc3,h5,Bd4,Bxd4', 'Qxd4+,Qxd4,cxd4', 'https://lichess.org/training/nOamb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nObOp', 'Rapid', 'ilmike18', 1603, 'Bishkek85', 1777, 'e4,e5,Nf3,Nc6,Bb5,f6,Nxe5,Nxe5,f4,Ng6,f5,Ne5,d4,c6,Qh5+,g6,fxg6,Nxg6,Bd3,Qe7,O-O,d6,e5,dxe5', 'Bxg6+,hxg6,Qxh8', 'https://lichess.org/training/nObOp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NobqU', 'Blitz', 'Rhoop', 1587, 'Lokker_02', 1654, 'e4,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Nc3,Nf6,Bg5,Be7,O-O-O+,Nbd7,f3,h6,Bh4,b6,Bc4,Rf8,Nge2,Bd6,Nb5,Bc5,Rd3,a6,Nbc3,Bd6,Rhd1,g5,Bf2,b5,Bb3,Ke7,Nd5+,Nxd5,Bxd5,Rb8,Ba7,Nc5,R3d2,Be6,Bxb8,Rxb8,Bc6,b4,b3,a5,Ng3,Rb6,Bd5,Bxd5,Nf5+,Kf6,Rxd5,Bf8,Rd8,Be7,Rh8,Ke6,Rxh6+,Bf6,Rh8', 'Bxh8,Rd8,Bf6,Re8+,Kd7', 'https://lichess.org/training/NobqU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nobXs', 'Rapid', 'Hellboy9062', 1881, 'avas', 1874, 'd4,Nf6,c4,d6,Nc3,e5,e3,Be7,h3,a6,Nf3,Nbd7,Bd3,O-O,O-O,c5,d5,Ne8,Qc2,g6,e4,Kg7,Be3,h5,Qd2,Rh8,Ng5,Nf8,f4,Bxg5,fxg5,b6,h4,Bg4,Qf2,Ra7,Be2,Qd7,a4,Bxe2,Qxe2,a5,Nb5,Ra8,Qf2,Nh7,Qg3,f5,exf5,gxf5,Qh3,Rf8,Rf2,Qc8,Raf1,f4,Qxc8,Rxc8,Bd2,Rd8,g3,fxg3,Rxf8,Nxf8,Kg2,Ng6,Kxg3,Rd7,Nc3,Rf7,Rxf7+,Kxf7,Ne4,Ke7,b3,Ng7,Nf6,Nf5+,Kh3,Nfxh4,Nxh5,Nf3,Be3,Nd4,Bxd4,cxd4,Nf6,Nf4+,Kg4,d3,Ne4,Kf8,Kf5,Ke7,g6,Ne2,g7,Kf7,Nxd6+,Kxg7,Ne4', 'Ng3+,Nxg3,d2,Ne4,d1=Q', 'https://lichess.org/training/nobXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nodBf', 'Rapid', 'Serg2809', 1891, 'E_Sukhanov', 1919, 'd4,d5,c4,e6,e3,Nf6,Nc3,c6,Nf3,Be7,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,Nbd7,Qc2,b4,Ne2,Qb6,b3,Rc8,Qb2,O-O,Bd2,a5,a3,c5,dxc5,Bxc5,Nfd4,bxa3,Qa2,Bb4,Rfd1,Nd5,h3,N7f6,Rac1,h6,Nc2,Rc7,Nxb4,axb4,Bc4,Rfc8,Nf4,Ne4,Be1,Nec3,Rxc3,Nxc3,Bxc3,bxc3,Qxa3,Ra8,Qc1,Qb4,Rd4,e5', 'Bxf7+,Rxf7,Rxb4', 'https://lichess.org/training/nodBf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nodPT', 'Blitz', 'kada08', 1785, 'INVERNALIA', 1774, 'd4,e5,e3,exd4,exd4,d5,Nc3,Nc6,Nf3,Nf6,Bb5,Be6,Bg5,Be7,O-O,O-O,Bxc6,bxc6,Ne5,Qe8,Qf3,Nd7,Qd3,Nxe5,dxe5,Bxg5,f4,Be7,Rf3,Qb8,f5,Bc8,Rh3,Qxb2,Rf1,f6,e6,a5,Rff3,Ba6,Qe3,Qa1+,Kf2,Qf1+,Kg3,Bd6+,Kg4,Qa1,e7,Rfe8', 'Qe6+,Kh8,Rxh7+,Kxh7,Rh3#', 'https://lichess.org/training/nodPT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NoDTX', 'Rapid', 'juliuselpeon', 1678, 'JaviCaballero', 1693, 'b4,e5,Bb2,Nc6,b5,Nd4,e3,Nxb5,Bxb5,c6,Bd3,d6,h3,Nf6,Be2,Be6,Nf3,g6,d4,exd4,Bxd4,Bg7,c3,c5,Bxf6,Bxf6,Bb5+,Bd7,Bxd7+,Qxd7,a4,O-O,Qd5,a6,O-O,b5,axb5,Qxb5,Ng5,Rae8,Ne4,Bg7,Nxd6,Rd8,c4,Qb2,Rxa6,Rd7,Qxc5,Rfd8,Qd5,Bf8,Ra8,Qb6,Rxd8,Qxd8,c5,Qa5,Qc6,Qd8,Nb7,Qe7,Rc1,Rxb7,Nd2,Rc7,Qd6', 'Qxd6,cxd6,Rxc1+', 'https://lichess.org/training/NoDTX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('noh1k', 'Rapid', 'FightTillTheEnd', 1880, 'abyrvalg', 1852, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,Bb4,Bg5,h6,Bh4,g5,Bg3,Nxe4,Qd3,Nxg3,hxg3,d5,O-O-O,Bxc3,Qxc3,Bf5,Qf3,Be4,Qh5,Nb4,Bb5+,Kf8,Bd3,Bxd3,cxd3,Nxa2+,Kb1,Nb4,Qe2,f6,Nc5,Qe7,Rc1,Kg7,Qg4,a5', 'Ne6+,Kf7,Rc7', 'https://lichess.org/training/noh1k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NoHVm', 'Classical', 'gusmanya', 1610, 'yvers12', 1630, 'd4,Nf6,c4,d5,cxd5,Nxd5,Nf3,Bg4,g3,Bxf3,exf3,a6,Bg2,e6,O-O,Nc6,Nc3,Bb4,Nxd5,Qxd5,Be3,O-O,f4,Qf5,a3,Qb5,axb4,Nxb4,Re1,Nd3,Re2,Nxb2,Qb1,Qxe2,Bf1,Qf3,Qxb2,b6,Bg2,Qg4,Bxa8,Rxa8,Qc2,h5,Qc6,Rc8,Qd7,Rf8,Qxc7,h4,Qc6,hxg3,hxg3,g6,Qxb6,Kg7,Qc6,Rh8,Qg2,Qe2,d5,Rd8,dxe6,fxe6,Qf1,Qh5,Rxa6,Rh8,Qg2', 'Qd1+,Qf1,Rh1+,Kxh1,Qxf1+,Kh2,Qxa6', 'https://lichess.org/training/NoHVm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NoI5o', 'Rapid', 'dbgi', 1772, 'ukker', 1683, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bb7,d4,d6,d5,Nd4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/NoI5o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('noicd', 'Rapid', 'Dinotoad', 1642, 'cataxd', 1634, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,Nf3,Be7,e3,b6,Be2,O-O,O-O,Bb7,Qb3,h6,Bxf6,Nxf6,cxd5,exd5,Ne5,Bd6,Nd3,c6,a4,a5,Qc2,Bc7,Ne5,Bxe5,dxe5,Nd7,f4,Qe7,Rad1,f6,exf6,Qxe3+,Kh1,Nxf6,Rf3,Qe7,Qd2,Rad8,Re1,Ne4,Re3,Rxf4,g3,Qb4,Qc2,Rff8,Nxe4,Qxe1+,Kg2,dxe4', 'Bc4+,Kh8,Rxe1', 'https://lichess.org/training/noicd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NOjUv', 'Rapid', 'BblKpyTACbl', 1951, 'burakpadir', 1868, 'e4,e5,Nf3,d6,Bc4,h6,d4,Qf6,h3,Nc6,dxe5,Nxe5,Nxe5,dxe5,Nc3,c6,a3,b5,Ba2,Bc5,Qf3,Qxf3,gxf3,Nf6,Be3,Bxe3,fxe3,Nh5,Kf2,O-O,Rad1,Kh7,h4,f5,Rhg1,fxe4,Nxe4,Nf6,Nd6,Rd8,Nxc8,Rxd1,Rxd1,Rxc8,Rd6,Rc7,c3,c5,Bb1+,Kg8,Bg6,Kf8,Re6,Re7,Rc6,c4,Rc8+,Ne8,Rxe8+,Rxe8,Bxe8,Kxe8,Kg3,Ke7,h5,Kf6,Kg4,g5,hxg6,Kxg6,f4,exf4,Kxf4,a6,e4,h5,e5,h4,e6', 'Kf6,e7,Kxe7', 'https://lichess.org/training/NOjUv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NOLDt', 'Rapid', 'hakanburakdinc', 1828, 'liviomoraiss', 1834, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bg4,h3,Bh5,Bf4,Nc6,Qe2+,Be7,O-O-O,O-O,g4,Bg6,h4,Nxg4,Ne5,Ngxe5,dxe5,a6,Rxd5,Qe8,h5,Bf5,Rg1,Kh8,h6,g6,e6,Bxe6,Be5+,f6,Bxf6+,Bxf6,Rd1,Bxc3,bxc3,Bxa2,Qd3,Rd8,Qh3,Rxd1+,Kxd1,Rxf2,Bd3,Ne5,Re1,Rf3,Qh2,Rxd3+,cxd3,Qa4+,Kc1,Nxd3+,Kd2,Nxe1', 'Qe5+,Kg8,Qg7#', 'https://lichess.org/training/NOLDt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NoljU', 'Blitz', 'GM Dr-BassemAmin', 2678, 'FM FlamingFM', 2447, 'e4,c5,Nf3,Nc6,d3,e6,g3,d5,Nbd2,Nf6,Bg2,Be7,O-O,O-O,Re1,h6,e5,Nd7,Nf1,f6,exf6,Bxf6,c3,Nde5,Nxe5,Nxe5,Ne3,b6,Ng4,Nxg4,Qxg4,e5,Qg6,Be6,Bxh6,Qd7,Bxg7,Qxg7,Qxg7+,Bxg7,f4,Rad8,fxe5,d4,c4,Bf5,Bd5+,Kh7,e6,Rde8,e7,Rh8,Bc6,Bxd3,Bxe8,Rxe8,b3,Bg6,Re6,d3,Rf1,d2,Kg2,Bc2,Rd6,Bd4,Rf7+,Kg8,Rf8+,Rxf8,Rd8,Be4+,Kh3,Bf5+,Kg2,Bg7,Rxf8+', 'Bxf8,e8=Q,d1=Q', 'https://lichess.org/training/NoljU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nOlMp', 'Blitz', 'junk777', 1618, 'theokritos', 1659, 'e4,e5,f4,exf4,Nf3,Be7,d4,Bh4+,Kd2,d6,c3,Bg4,Be2,Nc6,Na3,Nf6,Bd3,O-O,Kc2,Re8,Qe2,Bg5,h3,Bh5,Bd2,Bxf3,Qxf3,a6,Bxf4,Bxf4,Qxf4,b5,Raf1,b4,Nc4,bxc3,bxc3,Rb8,Rb1,Qd7,Rhf1,Rxb1,Rxb1,d5,exd5,Nxd5,Qf3,Nf6,Rf1,Qd5,Qg3,Kh8,Qxc7,Qxg2+,Nd2,Ne7,Bc4,Ned5,Qxf7,Ne3+,Kb3,Qxd2', 'Qxe8+,Nxe8,Rf8#', 'https://lichess.org/training/nOlMp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nOmI4', 'Rapid', 'Maximini1', 1899, 'HADIrion', 1889, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Nc6,Nc3,Qc7,Be3,Bb4,Qb3,Bxc3+,Qxc3,Nf6,f3,O-O,Be2,e5,Nb3,d6,O-O,Be6,Rfd1,Rfd8,Rd2,b6,Rad1,Ne8,f4,f6,fxe5,dxe5,Rxd8,Rxd8,Rxd8,Nxd8,Nd2,Nb7,a3,Ned6,b4,a5,c5,bxc5,bxc5,Nc8,Bc4,Bxc4,Qxc4+,Kf8,c6,Nbd6,Bc5,Ke7,Qg8,Qxc6,Qxg7+,Ke6,Qg8+,Nf7', 'Qg4+,f5,Qxf5#', 'https://lichess.org/training/nOmI4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nOMVp', 'Blitz', 'indroneelc', 1802, 'tabarchum', 1809, 'e3,Nf6,a3,g6,c4,Bg7,h3,d6,Nf3,O-O,Nc3,Nc6,b4,e5,Bb2,Be6,Rc1,e4,Nh2,a6,Ng4,Ne7,Nd5,Nexd5,cxd5,Bxd5,Qc2,Re8,Bd4,b5,Qb2,Re6,Be2,Rc8,h4,c5,bxc5,dxc5,Bc3,Bc4,Bxc4,bxc4,Ne5,Rb8,Qa1,Bh6,Nxc4,Qd3,Bxf6,Rb3,Rc3,Rxc3,Qxc3,Qb1+,Ke2,Qb8,Rc1,Qh2,Bg5,Bxg5,hxg5,Qxg2,Rf1,Qg4+,Ke1,Qxg5,Na5,c4,Nxc4,Rc6,Qd4,Qb5,Nb2', 'Rc1+,Nd1,Rxd1+,Kxd1,Qxf1+', 'https://lichess.org/training/nOMVp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NONIR', 'Classical', 'ignorancekaavatar', 1777, 'Kubawaszak', 1744, 'e4,c5,Nf3,g6,Bc4,Bg7,d3,b6,c3,Nf6,Ng5,e6,e5,Nd5,Qf3,O-O,Bxd5,exd5,d4,Bb7,Qh3,h5,g4,Bh6,Qh4,f6,exf6,Qxf6,Rf1,cxd4,gxh5,gxh5,cxd4,Nc6,Rg1,Rae8+,Ne6+,Kh8,Qxf6+,Rxf6,Bxh6,Rexe6+,Be3,Nxd4,Kd1,Nf3,Rh1,d4,Bc1,Ng5,Bxg5,Rf5,Rg1,Bf3+,Kc1,Rg6,h4,Rc6+,Kd2,Bg4,Na3,Rxf2+,Ke1,Rxb2,Rg3,Re2+,Kf1,Rc3,Bf6+,Kh7,Rxc3,dxc3,Bxc3,Re3,Bb2,d5,Kf2', 'Re2+,Kg3,Rxb2', 'https://lichess.org/training/NONIR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nOOJM', 'Rapid', 'Belkaid02', 2023, 'Boiled_Gooase', 2036, 'e4,c6,Nf3,d5,exd5,cxd5,d4,a6,Nc3,Nf6,Bd3,Nc6,a3,Bg4,Be3,e5,dxe5,Nxe5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,d4,O-O-O,Bc5,Bg5,O-O,Nd5', 'Qxd5,Bxf6,Qxf3,gxf3,gxf6', 'https://lichess.org/training/nOOJM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NopA0', 'Blitz', 'Ramos2020', 1891, 'IM AutHun', 2548, 'e4,c5,Bc4,Nc6,Nf3,e6,O-O,Nf6,Nc3,d5,exd5,exd5,Be2,Be7,Re1,d4,Nb1,O-O,c3,d3,Bf1,Bg4,h3,Bh5,Re3,c4,b3,Nd5,Re4,cxb3,axb3,Bg6,Re1,Re8,c4,Bf6,Nc3,Nxc3,Rxe8+,Qxe8,dxc3,Bxc3,Ra2,Rd8,Bd2,Bf6,b4,a6,b5,axb5,cxb5,Nd4,Nxd4,Bxd4,Qg4,h5,Qf3,Qxb5,Bg5,Re8,Rd2,Qb1,Rd1,Qc2,Bxd3,Bxd3,Rxd3,Bxf2+,Kh2,Re1,Rd8+,Kh7', 'Qxh5#', 'https://lichess.org/training/NopA0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nopim', 'Blitz', 'Lbvf228', 2215, 'FM Felix_Kuznetsov', 2578, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,Bxa6,Nc3,d6,e4,Bxf1,Kxf1,g6,g3,Bg7,Kg2,O-O,Nf3,Nbd7,Re1,Ng4,Qc2,Qa5,a4,Rfb8,Bd2,c4,Nb5,Qb6,Bc3,Nde5,Nxe5,Bxe5,h3,Bxc3,Nxc3,Ne5,Nb5,Qc5,Rec1,Nd3,Rd1,f5,Rxd3', 'cxd3,Qxc5,dxc5', 'https://lichess.org/training/nopim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nOPVe', 'Blitz', 'KAKEK_sugiono', 2316, 'FM deni165', 2432, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,Nb3,Bb6,Nc3,Ne7,Bc4,O-O,O-O,Nbc6,a4,f5,a5,Nxa5,Nxa5,Bxa5,Bg5,fxe4,Qd6,Nf5,Qf4,Bc7,Qg4,Qe8,Nxe4,d5,Nf6+,Rxf6,Bxf6,dxc4,Rfe1,Qg6,Qxc4,Bxh2+,Kxh2,Qxf6,Rad1,h6,Qc7,Qe7', 'Rd8+,Kf7,Rxc8,Rxc8,Qxc8', 'https://lichess.org/training/nOPVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Noqbf', 'Blitz', 'ljdr', 2484, 'NM frostbitten', 2476, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,Nc6,Qd2,O-O,Bc4,Bd7,Bb3,Rc8,O-O-O,Ne5,Kb1,Re8,g4,b5,g5,Nh5,Nce2,a5,a3,a4,Ba2,Nc4,Bxc4,Rxc4,Ng3,Nf4,Ndf5,Bxf5,exf5,e5,f6,Bf8,Bxf4,Rxf4,Rhf1,Qb6,Ne4,b4,Qxb4,Qc6,Qd2,Rb8,Qd5,Qb6,b4,axb3,cxb3,Qa7,Ka2,Qe3,Rf2', 'Rxe4,fxe4,Qxf2+', 'https://lichess.org/training/Noqbf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NOQmP', 'Classical', 'leeho_pobedil', 2044, 'Pisingos', 2120, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Bg5,e6,c5,Be7,Bb5,O-O,Bxc6,bxc6,Nf3,Ba6,Ne5,Qc7,f4,h6,Bh4,Rab8,Rb1,Rfc8,b4,Ne4,Nxe4,Bxh4+,Ng3,f6,Ng6,Bxg3+,hxg3,Bc4,a3,a5,Rb2,axb4,axb4,Rb5,Kf2,Rcb8,Qd2,Kh7,Nh4,e5,Nf3,exf4,gxf4,Re8,Re1,Rxe1,Nxe1,Rb8,Qe3,Qd7,Qg3,Re8,Nf3,Qe6,Kg1,Qe3+,Kh2,Qc3', 'Ng5+,fxg5,Qxc3', 'https://lichess.org/training/NOQmP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NOrkq', 'Classical', 'zero747', 1667, 'jtfegadel', 1727, 'd4,Nf6,c4,g6,e3,Bg7,Nf3,O-O,Nc3,d6,h3,Nbd7,Bd3,e5,d5,Re8,e4,Nc5,Bc2,c6,b4,Ncd7,O-O,cxd5,cxd5,b6,a3,a5,Bd2,Bb7,Rc1,Nh5,Bg5,Qb8,Nb5,Nf4,Bb3,Rf8,Be7,Rc8,Bxd6', 'Rxc1,Bxb8,Rxd1', 'https://lichess.org/training/NOrkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nORVd', 'Rapid', 'Granex', 1831, 'MONONOU', 1867, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Bg5,e6,Bd3,Be7,O-O,O-O,Ne5,Nbd7,b3,Nxe5,dxe5,Nd7,Bxe7,Qxe7,Re1,f5,Qh5,Qf7,Qh4,a6,Nd2,b5,c4,dxc4,bxc4,bxc4,Bxc4,Bb7,Be2,Nc5,Bf3,Bxf3,Nxf3,Nd3,Ng5,Qg6,Red1,h6,Nh3,Nc5,Nf4,Qe8,Rac1,Ne4,Nh3,Qa4,f3,Nc5,Qe7,Ne4,Qxe6+,Kh8,Nf4,Nc3,Rf1,Qxf4,Rxc3,Rae8,Qxa6', 'Qd4+,Kh1,Qxc3', 'https://lichess.org/training/nORVd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nOSCg', 'Rapid', 'DerRetrogott', 1767, 'Murissoca', 1822, 'd4,d5,c4,dxc4,e3,Bf5,Bxc4,e6,Nc3,Nf6,Nf3,Bd6,Qe2,O-O,e4,Nxe4,Nxe4,Nc6,O-O,Bg4,d5,Ne5,dxe6,Nxf3+,gxf3,Bxe6,Bxe6,fxe6,Rd1,Qh4,Bg5', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/nOSCg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NosEP', 'Rapid', 'Ramanujan-13', 1786, 'SERASKER', 1806, 'e4,g6,f4,Bg7,d4,c6,c3,d6,Nf3,Nf6,Bd3,Qb6,b3,O-O,Na3,Ng4,Nc4,Qc7,h3,Nf6,O-O,d5,exd5,Nxd5,f5,Nxc3,Qc2,Nd5,fxg6,fxg6,Nfe5,Nb4,Rxf8+,Bxf8,Qf2,Be6,Be4,Nd7,Bb2,Nxe5,dxe5,Bxc4,bxc4,Qb6,Bd4,Qc7,Rf1,e6,Qh4,Bg7,Qg4,Re8,h4,Nxa2,Bxg6,hxg6,Qxg6,c5,Qxe8+,Kh7,Qh5+,Kg8,Be3,Nc3,Bh6,Ne2+,Kh1', 'Ng3+,Kg1,Nxh5', 'https://lichess.org/training/NosEP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nOSzw', 'Rapid', 'xmd33x', 1714, 'M_Romanov', 1701, 'd4,d5,Bf4,Bf5,e3,a6,Bd3,Bxd3,Qxd3,e6,Nf3,Nf6,c3,Bd6,Bg3,Nc6,Nbd2,O-O,Ne5,Nxe5', 'dxe5,Bxe5,Bxe5', 'https://lichess.org/training/nOSzw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NoT60', 'Bullet', 'thebody', 1552, 'Clemens90', 1565, 'e4,e6,d4,d5,e5,c5,Qg4,g6,Nf3,Nh6,Qh3,Nf5,Bg5,Qb6,b3,cxd4,Bd3,Bb4+,Nbd2,h6,Bf6,Rg8,Bxf5,gxf5,Qxh6,Nd7,O-O,Nxf6,exf6,e5,Qh7,Rf8,Qg7,Bxd2,Nxd2,e4,Rae1,Be6,f3,Rc8,fxe4,dxe4,Nc4,Qc5,g4,d3+,Kh1,dxc2,gxf5,Bxc4,bxc4,Qxc4,Rc1,e3,Rfe1,e2,Qg3,Qe4+,Kg1,Qxf5,Qe3+,Qe6,Rxe2,Qxe3+,Rxe3+,Kd7,Re2,Rc6,Rexc2,Rxf6,Rc7+,Ke6,Rxb7,Ke5,Rcc7', 'Rg8+,Kh1,Rf1#', 'https://lichess.org/training/NoT60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NoTfg', 'Rapid', 'safetymarsy', 2079, 'Math_rida', 2094, 'd4,d5,c4,Nf6,Bg5,dxc4,Bxf6,gxf6,e4,e5,d5,b5,a3,c6,Nc3,Na6,dxc6,Qxd1+,Rxd1,Nc7,Nd5,Nxd5,exd5,Bd6,Ne2,Bg4,f3,Bf5,Nc3,a6,g4,Bg6,Ne4,Bxe4,fxe4,O-O-O,h4,Rhg8,Rd2,Rxg4', 'Bh3,f5,Bxg4', 'https://lichess.org/training/NoTfg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nOtko', 'Rapid', 'Hazlol', 1626, 'vinodhchennu', 1623, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,c3,c5,d4,cxd4,cxd4,exd4,Qxd4,Ba6', 'Qa4+,Qd7,Qxa6', 'https://lichess.org/training/nOtko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nOvFR', 'Blitz', 'FM chesszerorfl', 2440, 'alamzhi', 2589, 'Nf3,Nf6,d4,e6,c4,d5,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,e3,O-O,cxd5,exd5,Qb3,Bxc3+,Qxc3,c6,Be2,Bf5,O-O,Nd7,b4,a6,a4,Qe7,Rfc1,Nf6,b5,axb5,axb5,Rxa1,Rxa1,cxb5,Bxb5,Ne4,Qb3,Rd8,Bd3,Nd6,Bxf5,Nxf5,Ne5,f6,Nd3,Kh8,Nc5,Re8,h3,Qf7,Ra7,Nh4,Rxb7,Qg6,Qxd5,Kh7,Kh2,f5,g3,f4,Rb3', 'fxg3+,fxg3,Qc2+', 'https://lichess.org/training/nOvFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NOvOg', 'Rapid', 'Agerhardd', 1773, 'Anarisse', 1784, 'Nf3,d5,d4,c6,c4,Nf6,Nc3,Bf5,cxd5,cxd5,Qb3,Qb6,Qb5+,Nc6,e3,e6,Nh4,Be4,Nxe4,Nxe4,Qxb6,axb6,Bb5,Bb4+,Ke2,Ke7,a3,Ra5,a4,Rha8,Nf3,Rxb5,axb5,Nxd4+,Nxd4,Rxa1,Nc2,Ra4,f3,Nd6,b3,Ra2,Kd3,Bc5,b4,Bxe3,Nxe3,Nxb5,Bd2,Ra3+,Ke2,Nd4+,Kf2,Ra2,Rd1,Nc6,Kg3,f5,b5,Ne5,Bb4+,Kf6,Bc3,g5,h4', 'f4+,Kh3,fxe3', 'https://lichess.org/training/NOvOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nowhG', 'Rapid', 'Amir_ELSHAWADFY', 1807, 'akashcheck', 1897, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,d6,Nxc6,bxc6,Bd3,Be7,O-O,O-O,b3,Re8,Bb2,Be6,Re1,d5,e5,Ng4,Ne2,Bc5,Bd4,Bxd4,Nxd4,Qh4,h3,Qxf2+,Kh1,Ne3,Qe2,Qxe2,Rxe2,Nxg2,Rxg2,Bxh3,Rh2,Bd7,Bxh7+,Kf8,Bf5,Bxf5,Nxf5,Kg8,Rg1,g6,Nh6+,Kg7,Rf1,Re7,Nf5+,gxf5', 'Rg1+,Kf8,Rh8#', 'https://lichess.org/training/nowhG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NOwTl', 'Blitz', 'mykhailo2008', 1574, 'Liver1974', 1615, 'd4,d5,e4,e6,Nc3,c6,Bf4,Nd7,Bd3,Nb6,f3,Bd6,Bxd6,Qxd6,Qd2,Ne7,O-O-O,Bd7,Nge2,Qc7,Qg5,Ng6,e5,a6,Bxg6,hxg6,h4,Qd8,Qg4,Qe7,h5,gxh5,Rxh5,Rxh5,Qxh5,O-O-O,g4,g6,Qh3,Nc4,b3', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/NOwTl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nOwtN', 'Blitz', 'MilosTB', 2499, 'IM filolog', 2650, 'd4,Nf6,Nf3,e6,Bg5,c5,e3,cxd4,exd4,b6,Nbd2,Bb7,c3,Be7,Bd3,a6,O-O,d6,Bxf6,Bxf6,Ne4,Be7,Qe2,Nd7,Rad1,Nf6,Nxf6+,Bxf6,Nd2,O-O,Be4,Bxe4,Nxe4,Be7,f4,g6,a3,d5,Nf2,b5,Ng4,a5,Qxb5,Rb8,Qe2,Qb6,Rf2,Qb5,Qxb5,Rxb5,b4,axb4,axb4,Rc8,Rf3,Rb6,Ne5,Ra6,Rb1,Ra3,b5,Bd6,Nc6,f6,g3,Kf7,Re3,h6,Rbe1,Re8,c4,Rxe3,Rxe3,dxc4,Rc3,Bc7,Rxc4,Bb6,Kg2,Ra8,Rc2,Ke8,h4,Kd7,h5,gxh5,Kh3,Ra1,Rh2,Rb1,Kg2,Rxb5,Nb8+,Kc7,Na6+,Kb7,Nc5+,Bxc5,dxc5,Rxc5,Kf3,Kc6,Rd2,Rd5,Ra2,Rd3+,Kg2,Kd5,Ra5+,Ke4,Rxh5,e5,fxe5,fxe5,Rxh6,Rd2+,Kh3,Ke3,Re6,e4,g4,Kf4,Rf6+,Ke5,Rf5+,Kd4,g5,e3,Rf8,e2,Re8', 'Rd3+,Kg4,Re3', 'https://lichess.org/training/nOwtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NoxPx', 'Blitz', 'raargh', 1573, 'sajjad_899', 1595, 'd4,e6,c4,d5,Nf3,Nf6,Bg5,Nbd7,e3,b6,Be2,Bb7,O-O,Be7,b3,O-O,Nc3,c5,cxd5,Nxd5,Bxe7,Nxe7,Nb5,Nf6,Ne5,a6,Nc3,cxd4,exd4,Nf5,Bf3,Nd5,Nxd5,Bxd5,h3,f6,g4,Nh4,Bxd5,Qxd5,f3,fxe5,dxe5,Qxe5,Qe1,Qc5+,Kh1,Qe7,Qg3,e5,Rae1,Ng6,h4,Rf4,h5,Nh4,Qxf4,exf4,Rxe7,Rd8,Kh2,Rd2+,Kh3,g5,h6,Rg2,Rfe1', 'Rg3+,Kh2,Nxf3+,Kh1,Nxe1', 'https://lichess.org/training/NoxPx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NoYTL', 'Rapid', 'AzovSea', 2023, 'lauferlovac', 2086, 'd4,Nf6,Bg5,Ne4,Bf4,d5,f3,Nf6,e4,dxe4,Nc3,Bf5,Bc4,e6,Qd2,Bb4,Nge2,exf3,gxf3,Nbd7,O-O-O,O-O,Rhg1,Nd5,Bd3,Bxd3,Qxd3,Bxc3,bxc3,Nxf4,Nxf4,Nf6,Rg2,Kh8,Rdg1,Rg8,Rg3,c5,Rh3,c4,Qe3,Qa5,Nh5,Nxh5,Rg5,Qa3+,Kd2,Nf6,Qe5,Qe7,f4,Rad8,Rhg3,Rd5,Qe2,Rxg5,fxg5,Nd5,Qh5,Qd6,Rg4,e5,g6,fxg6', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/NoYTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NoZCe', 'Rapid', 'Vokizre_n', 1949, 'WES2015', 2026, 'b4,e5,Bb2,Bxb4,Bxe5,d6,Bxg7,Nf6,Bxh8,Bf5,c3,Ba5,Qa4+,Nc6,Qh4,Ne4,Qxd8+,Nxd8,f3,Nc5,e4,Be6,Bd4,Na4,Bb5+,Bd7,Bxd7+,Kxd7,Na3,c6,Ne2,Ne6,Nc4,Bc7,O-O,b5,Ne3,Rg8,Bxa7,c5,Nd5,Ra8,Nf6+,Ke7,Bxc5,Naxc5,Nd5+,Kd7,Nxc7,Kxc7,d4,Nd3,Rfb1,Kb6,Nc1,Ndf4,c4,Nxd4,cxb5,Rg8,g3,Nh5,a4,Nxf3+,Kf2,Nxh2,a5+,Kc5,Ne2,Ng4+,Kf3,Ne5+,Ke3,Nf6,b6,Rg4,Rc1+,Kb5,Nd4+,Ka6,b7,Rxe4+,Kf2,Nfg4+,Kg2,Rxd4,b8=Q,Rd2+,Kf1,Ne3+,Kg1', 'Nf3+,Kh1,Rh2#', 'https://lichess.org/training/NoZCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('noZE0', 'Blitz', 'Tabyshbek_1961', 2033, 'combustiolog', 2032, 'd4,Nf6,c4,c5,e3,cxd4,exd4,d5,Nc3,e6,Nf3,Nc6,Bg5,Bb4,Bd3,dxc4,Bxc4,O-O,O-O,Be7,Rc1,Nb4,a3,Nbd5,Bd3,h6,Bd2,a6,Bb1,b5,Qe2,Bb7,Rfd1,Rc8,h3,Qb6,Nxd5,Bxd5,Ne5,a5,Rc3,Rxc3,Bxc3,b4,axb4,axb4,Bd2,Bb3,Qd3,Bxd1,Nd7,Be2', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/noZE0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nP3H3', 'Rapid', 'Apeng123', 2192, 'Christopho', 2150, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,Nc3,axb5,Nxb5,e6,d6,Qa5+,Nc3,Ne4,Qd3,Nxd6,Bd2,Qc7,Bf4,Qb6,O-O-O,Nf5,Bxb8,Rxb8,b3,g6,e3,Bg7,g4,Ne7,h4,d5,Na4,Qb4,Qc2,Qa3+,Kd2,c4,bxc4,Ba6,f4,Qb4+,Ke2,Bxc4+,Kf3,Nc6,Bxc4,dxc4,Ne2,Qb7,Kg3,h5,Nc5,Qe7,Ne4,hxg4,Nd6+,Kf8,Qxc4,Na5,Qa6,Nb7,Nxb7,Qxb7,Rd8+,Ke7,Qd6+,Kf6,Rxb8,Qxb8,Qxb8,Rxb8,Rc1,Rb2,Nc3,Kf5,e4+,Kf6,e5+,Kf5,a4,f6,Nb5,Rb3+,Kf2,Kxf4,Rc4+,Kf5', 'Nd4+,Kxe5,Nxb3', 'https://lichess.org/training/nP3H3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NP5xm', 'Rapid', 'Cubanito100', 2058, 'chesskodous', 1919, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,h6,Bh4,Qb6,Nb3,Qc6,O-O-O,b5,Nd4,Qc7,Kb1,Bb7,Bxf6,Bxf6,Bxb5+,axb5,Ndxb5,Qa5', 'Nxd6+,Kf8,Nxb7', 'https://lichess.org/training/NP5xm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Np62R', 'Rapid', 'Noobick', 1907, 'blas175', 1936, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,c5,c3,Nc6,Nbd2,Be7,Bb5,Bd7,Bxc6,Bxc6,O-O,Bb5,Re1,O-O,Ne5,Rc8,Qf3,Nd7,Qg3,Nxe5,dxe5,Bd3,Bh6,Bg6,Bf4,Bh4,Qg4,Bf5,Qh5,Bg6,Qe2,c4,Nf3,Be7,Nd4,a6,Qg4,Kh8,h4,h6,h5,Bh7,Kh2,Rg8,Rg1,g5,hxg6,Rxg6,Qe2,Qg8,g4,Bg5,Rg2,Rg7,Rag1,Bd3,Qd1,Be4,Bxg5,hxg5,f3', 'Qh7+,Kg3,Qh4#', 'https://lichess.org/training/Np62R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('np6Fs', 'Rapid', 'Daviti001', 1689, 'Vivekanand211074', 1698, 'e4,e5,Nf3,Qf6,Nc3,c6,Bc4,g5,h3,h5,d3,a5,Bxg5,Qg7,Be3,b5,Bxf7+,Qxf7,Nxe5,Qg7,Bd4,Qxg2,Rf1,c5,Be3,d6,Nf3,Bxh3', 'Rg1,Qxg1+,Nxg1', 'https://lichess.org/training/np6Fs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nP8Qw', 'Blitz', 'etceteras', 2099, 'javad43', 2067, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,d5,Bb5,Ne4,cxd4,Bb4+,Nbd2,O-O,O-O,Bg4,Qa4,Bxd2,Nxd2,Nxd2,Bxd2,Nb8,f4,c6,Bd3,Nd7,f5,Qb6,Bc3,Nxe5,Bc2,Nd7,Qa3,Nf6,h3,Be2,Rf2,Ba6,g4,Rfe8,g5,Ne4,Bxe4,Rxe4,f6,Rae8,fxg7,Kxg7,Qd6,R8e6,Rxf7+,Kxf7,Rf1+,Kg6', 'Rf6+,Kxg5,Rxe6,Rxe6,Qxe6', 'https://lichess.org/training/nP8Qw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('np90Z', 'Rapid', 'AnsorSopir', 1731, 'MrEver', 1638, 'd4,d5,c4,c6,Bf4,Nf6,e3,e6,Bd3,Bb4+,Nc3,Ne4,Ne2,Qa5,Bxe4,Bxc3+,Nxc3,dxe4,O-O,f5,Qh5+,g6,Qh6,Qd8,Qg7,Rf8,Qxh7,g5,Qg6+,Kd7,Bxg5,Qe8,Qxe8+,Rxe8,c5,Kc7,Bf4+,Kd8,a3,Nd7,Bd6,Nf6,Ne2,Kd7,Nf4,b6,b4,Rg8,cxb6,axb6,Rfc1,Kxd6,Rc3,Bd7,Rac1,Rg5,R1c2,Rag8,g3,Nd5,Rc4,Nxf4,exf4,R5g7,R4c3,Ra8,Ra2,b5,Re2,Be8,h4,Bh5,Ree3,Kd5,Rc5+,Kxd4,Re1,Rxa3,Rxc6,Kd5,Rec1,Be2', 'R1c5+,Kd4,Rd6#', 'https://lichess.org/training/np90Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nP9BU', 'Blitz', 'FM Kramnick95', 2497, 'hossein_babaee', 2508, 'e4,d6,d4,g6,Nc3,Bg7,Nf3,Nf6,Be2,O-O,O-O,Bg4,h3,Bxf3,Bxf3,Nc6,Be3,Nd7,Ne2,e5,d5,Ne7,c4,a5,a3,f5,b4,Nf6,Nc3,f4,Bd2,g5,c5,axb4,axb4,Rxa1,Qxa1,h5,Qd1,Qe8,Be2,Qg6,cxd6,cxd6,Nb5,g4,hxg4,hxg4,Nxd6,Nxe4,Nxe4,Qxe4,Bxg4,Rf6,Be6+,Kh7,Qh5+,Bh6,Kh1,Rg6,f3', 'Qe2,Rg1,Qxd2', 'https://lichess.org/training/nP9BU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Npa4w', 'Blitz', 'blancdauphin', 1832, 'GajahTempur', 1924, 'd4,e5,Nf3,Nc6,dxe5,Qe7,g3,Nxe5,Bg2,Nxf3+,Bxf3,c6,O-O,d5,c3,Nf6,e3,Bh3,Re1,Qd6,Qb3,Qc7,Nd2,Be7,e4,dxe4,Nxe4,Nxe4,Bxe4,O-O,Qc2,h6,Bf4,Bd6,Bxd6,Qxd6,Rad1,Qc7,Bf3,Rad8,Qe4,Rxd1,Bxd1,Rd8,Bc2,g6,Bb3,Bf5,Qe3,Kg7,f4,Qd6,Rd1,Qc7,Rxd8,Qxd8,Qe5+,Kg8,Kg2,h5,h3,Qd7,g4,hxg4,hxg4,Bxg4,Qg5,Bf5,Qg3,Qd2+,Kf1,Qxb2,Qe3,Qb1+,Kf2,Qe4,Qxa7,Qxf4+,Ke2,Qe5+,Kd2,Qd6+,Kc1,Qf4+,Kb2,Qd2+,Ka3,Qxc3,Qxb7,c5', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/Npa4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NpAjh', 'Rapid', 'patifonik', 1634, 'pavel_ash', 1601, 'd4,d5,Bf4,Nc6,e3,a6,Nf3,Nf6,c3,e6,Bd3,Bd6,Bg3,O-O,Qc2,Qe7,Ng5,g6,h4,Bxg3,fxg3,Ne4,Nxe4,dxe4,Bxe4,Qd6,Qf2,f5,Bf3,e5,Nd2,exd4,cxd4,Nb4,Nc4', 'Nd3+,Kd2,Nxf2', 'https://lichess.org/training/NpAjh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nPBiV', 'Blitz', 'kukang', 1607, 'Taubenblau', 1637, 'b4,d5,b5,e5,Bb2,Bd6,e3,c6,c4,Bd7,Nf3,f6,Be2,a6,a4,axb5,cxb5,cxb5,Bxb5,Bxb5,axb5,Rxa1,Bxa1,Qa5,Nc3,Ne7,O-O,O-O,d4,Bb4,Qb3,exd4,Nxd4,Rd8,Bb2,Bxc3,Bxc3,Qc7,Ra1,Rc8,Bb2,Nd7,h3,Nc5,Qa3,Ne4,Rc1,Qd7,b6,Rxc1+,Bxc1,Nc6,Nxc6,Qxc6,Qa8+,Kf7,Ba3,Qxb6', 'Qf8+,Kg6,Qe8+,Kh6,g4', 'https://lichess.org/training/nPBiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nPBu1', 'Blitz', 'ENPS_KB', 2074, 'Ranveer9999', 2055, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Be7,e3,Nbd7,Qc2,O-O,Bd3,dxc4,Bxc4,a6,O-O,b5,Bd3,c5,Bd2,Bb7,Ne4,cxd4,Nxd4,Rc8,Qb1,Nxe4,Bxe4,Bxe4,Qxe4,Nf6,Qb7,Qd6,Rfd1,Rc7,Qf3,Rfc8,a3,Qb6,Bc3,h6,Rd2,Nd5,Ne2,Nxc3,Nxc3,Bf6,Rad1,Bxc3,bxc3,Rxc3,Rd7,f6,Qh5,Rc1', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/nPBu1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('npCG1', 'Blitz', 'BluDOOM', 1972, 'Abed_eg', 1957, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Nxc6,bxc6,e5,Nh5,Be2,Ng7,O-O,Qc7,Bf4,Ne6,Bg3,Bg7,f4,Qb6+,Kh1,Qxb2,Qd2,Qb6,f5,Nd4,f6,exf6,exf6,Bf8,Bf2,c5,Nd5,Qc6,c4,Bb7,Rab1,h5,Bd3,Bh6,Rfe1+,Kf8,Qc3,Rb8,Bxd4,cxd4,Qxd4,Qd6,Qe4,Kg8,Rxb7,Rxb7,Ne7+,Kh7,Qxb7,Qxd3,Nd5,Qxc4,Qxd7,Rf8,Ne7,Qc3,Rf1,Bg5,Nd5,Qd3,Re1,Bh4,Rc1,Bg5,Re1,Qd2,Qe7,Qxd5,Qxf8,Bxf6,Rf1,Qc4,Rd1,Qxa2,h3,Qf2,Qd6,Bg7,Rd3', 'Qe1+,Kh2,Be5+,Qxe5,Qxe5+', 'https://lichess.org/training/npCG1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nPd8P', 'Rapid', 'osielmartins', 2011, 'henrymccormack', 1915, 'e4,e6,d4,d5,e5,c5,Bb5+,Bd7,Bxd7+,Qxd7,c3,Nc6,Nf3,Rc8,O-O,cxd4,cxd4,Nb4,Na3,Nh6,Bd2,Nf5,Bc3,Be7,Qb3,Nc6,Rac1,O-O,Nc2,f6,exf6,Bxf6,Ne5,Nxe5,dxe5,Bg5,Rcd1,Ne7,Nd4,a6,Bd2,Bxd2,Rxd2,Rf4,Nf3,Qc7,Qe3,Re4,Qg5,Qc1,Qxe7', 'Qxf1+,Kxf1,Rc1+,Rd1,Rxd1+,Ne1,Rdxe1#', 'https://lichess.org/training/nPd8P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('npeBz', 'Blitz', 'skiper89', 1760, 'Kingmaker_10', 1791, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,d5,Ne5,Nxe5,dxe5,Qh5,Nf6,Qxe5+,Qe7,Qxe7+,Kxe7,Bg5,h6,Bxf6+,gxf6,Nc3,Rg8,g3,Bh3,f4,Ba5,Kf2,Bb6+,Kf3,a6,d6+,Kxd6,Bxf7,Rg7,Bd5,c6,Bc4,Re8,Rad1+,Kc7,Rd3,h5,Re1,Ba7,Bb3,b5,Nd1,h4,Nf2,Bxf2,Kxf2,Rg4,Bf7,Re7,Bh5,Rg8,Rg1,a5,g4,Rh7,Rxh3,Rd8,Rxh4,Rd2+,Ke3,Rhd7,f5', 'R7d3+,Kf4,Rf2#', 'https://lichess.org/training/npeBz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nPflB', 'Blitz', 'Aleksei991', 1763, 'pawnstorm111', 1771, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,Nc3,axb5,Nxb5,d6,Nc3,Ba6,e4,Bxf1,Kxf1,Nbd7,Nge2,g6,g3,Bg7,Kg2,O-O,Rf1,Qc7,f4,Rfb8,Rb1,Ne8,a3,Nef6,Qc2,Ng4,h3,Ngf6,g4,Nb6,Bd2,Rb7,f5,Rab8,g5,Nh5,Nd1,Qd7,Ne3,Na4,Bc3,Nxc3,bxc3,Rxb1,Rxb1,Rxb1,Qxb1,Qa7,Nc4,gxf5,exf5,Qa6,Qb8+,Bf8,Qb3,Ng7,Ng3,Qa8,Ne3,Ne8,c4,e6,f6,h6,h4,exd5,Nxd5,Nc7,Qf3,Nxd5,cxd5,Qa4,g6,fxg6,f7+,Kh7,Ne4,Qc2+,Kg3,Qb2,h5,Qe5+,Kf2,g5,Nf6+,Kg7,Nd7,Qb2+,Kg3,c4,a4,Qd4,Qf5,Qf4+', 'Qxf4,gxf4+,Kxf4,c3,Ke3', 'https://lichess.org/training/nPflB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NPfXX', 'Rapid', 'cyberboy5', 2134, 'xerxes123', 1933, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,c3,d6,Qb3,Na5,Bxf7+,Kf8,Qa4,Kxf7,Qxa5,dxc3,Nxc3,Nf6,O-O,Re8,Bg5,h6,Bxf6,Bxf6,Rfe1,Be6,Qh5+,Kg8,Nd5,Bf7,Qf5,Bxb2,Rab1,Be6,Qh5,Bxd5', 'Qxd5+,Kh8,Rxb2', 'https://lichess.org/training/NPfXX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NpgBT', 'Blitz', 'rockdesire', 1929, 'Capablanca13', 1897, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,a6,Ba4,Bg4,Re1,b5,Bb3,Nd4,Bxf7+,Kxf7,Nxe5+,dxe5,Qxg4,Nf6,Qd1,Bc5,c3,Ne6,d3,Rf8,Nd2,Kg8,Nf1,Qe8,Be3,Bxe3,Nxe3,Rd8,Qc2,Nf4,Rad1,Qg6,f3,Rd7,Nf5,Rfd8,a4,Kf7,axb5,axb5,Kh1,Nxd3,Qb3+,Kf8,Rf1,Nf2+,Kg1,Nxd1,Qxb5,Rd2,Qc5+,R8d6,g3,Qh5,h4,Qg6,Qxc7,Rd7,Qc8+,Kf7,Qc4+,Nd5,Qc8,Re7,Nd6+,Kf6,g4,N5e3', 'g5+,Qxg5+,hxg5+', 'https://lichess.org/training/NpgBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Npiqo', 'Blitz', 'CM kekic76', 2439, 'nahtoderfahrung', 2256, 'e4,g6,d4,Bg7,Nc3,d6,Be3,a6,f3,b5,Qd2,Nd7,h4,h5,Nh3,Bb7,a4,b4,Nd5,Bxd5,exd5,Ngf6,Nf4,Nb6,Qxb4,Nbxd5,Nxd5,Nxd5,Qd2,Nxe3,Qxe3,O-O,Bc4,c5,dxc5,Bxb2,Rb1,Qa5+,Kf2,Be5,f4,Bg7,cxd6,Qxa4,Qe4,e6,Rhd1,Rac8,Bd3,Qa5,Kg3,Rfd8,Qb7,Qc3,d7,Rc7,Qxa6,Rdxd7,Rb8+,Kh7,Rb3,Qd4,Rf1,Qe3+,Kh2,e5', 'Bxg6+,fxg6,Rxe3', 'https://lichess.org/training/Npiqo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Npjq7', 'Rapid', 'amacalo', 1749, 'Shadowboxin', 1935, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,Nc6,O-O,O-O,Bg5,Re8,Nc3,Na5,Bb3,Nxb3,axb3,h6,Bh4,d6,Nd5,Re6,Qd2,c6,Nxf6+,gxf6,Qxh6,f5,Qd2,Qf8,exf5,Rh6,Be7,Qg7,f6,Qg6,Ra4,Rh5,Rh4,Bh3,Rxh3,Rxh3,g3,Rxg3+,hxg3', 'Qxg3+,Kh1,Qxf3+', 'https://lichess.org/training/Npjq7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nPL64', 'Rapid', 'kamali12', 1869, 'abhi_n', 1863, 'b4,b5,e3,a5,bxa5,Rxa5,Bb2,e6,Qg4,Nf6,Qg3,Bd6', 'Qxg7,Rg8,Qxf6,Qxf6,Bxf6', 'https://lichess.org/training/nPL64');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NpLKj', 'Blitz', 'FM TriniCupid', 2421, 'dzatorsky', 2404, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,b6,a5,Nf3,Ba6,b7,Ra7,Nc3,Rxb7,e4,Bxf1,Kxf1,d6,g3,Nbd7,Kg2,g6,Rb1,Bg7,Qa4,O-O,Bf4,Nb6,Qxa5,Nfd7,Qb5,Qa8,Qd3,Na4,Bg5,Nxb2,Qc2,Qa3,Rhc1,Re8,Nd2,Kf8,Nb3,Na4,Nxa4,Qxa4,Nxc5,Nxc5', 'Qxa4,Nxa4,Rxb7', 'https://lichess.org/training/NpLKj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NPnmD', 'Rapid', 'Snow_BT', 1832, 'nikoloz10107', 1810, 'd4,e6,c4,d5,cxd5,exd5,Nc3,Nf6,Nf3,h6,Bf4,a6,Qb3,c6,e3,Be7,h3,O-O,Be2,a5,a4,Na6,O-O,Bb4,Bh2,c5,Rfd1,c4,Qc2,Be6,b3,cxb3,Qxb3,Ne4,Rac1,Rc8,Na2,Rxc1,Rxc1,Bd2,Rc2,Qf6,Be5,Qg6,g4,Bxg4,hxg4,Qxg4+,Bg3,Nxg3,fxg3,Qxg3+,Kh1,Qh3+,Nh2,Qxe3,Qxe3,Bxe3,Bxa6,bxa6,Rc5,Bxd4,Rxd5,Bf6,Rxa5,Re8,Nf3,Re2,Nb4,Bc3,Ng1,Re1,Nd3,Rd1,Nf2', 'Rxg1+,Kxg1,Bxa5', 'https://lichess.org/training/NPnmD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('npOd4', 'Blitz', 'sosiuke', 2316, 'coratos', 2151, 'c4,e6,e4,d5,exd5,exd5,cxd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Bc4,Nc6,d4,O-O-O,d5,Ne5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,Nf6,O-O,Nxd5,Bg5,f6,Qf5+,Kb8,Rad1,c6,Bf4+,Bd6,Bxd6+,Rxd6,Nxd5,Rxd5,Qf4+,Re5,Rd7,Qxa2,Qb4,Rb5', 'Qd6+,Ka8,Rd8+,Rxd8,Qxd8#', 'https://lichess.org/training/npOd4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nPP5J', 'Rapid', 'smrdonja_fuj', 1835, 'hen2navarre', 1790, 'd3,c5,Bd2,d5,c4,e6,a3,Nf6,Nc3,Be7,Qc2,O-O,e3,d4,Ne4,Nxe4,dxe4,e5,Bd3,Be6,Ne2,Nc6,h3,Na5,O-O-O,Qb6,Bxa5,Qxa5,Qd2,Qa4,Qc2,Qd7,exd4,cxd4,f4,Rfc8,Kb1,f6,fxe5,fxe5,Rc1,Qc6,Ng1,Qb6,Ka2,Qa5,Nf3,Bd6,Qd2,Qa4,Qc2,Qc6,b4,b5,Nd2,a5,Kb3,bxc4+,Bxc4,Bxc4+,Qxc4+,Qxc4+,Rxc4,axb4,Rxc8+,Rxc8,axb4,Rb8,Kc4,Rxb4+,Kd5,Bb8,Nf3,h6,Rc1,Rb2,Rc8+,Kh7,Nxe5,Rb5+,Rc5', 'Rxc5+,Kxc5,Bxe5', 'https://lichess.org/training/nPP5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nPqZa', 'Blitz', 'Bigrolo', 1994, 'Galizaverde', 1987, 'e4,c6,d4,d5,f3,e6,Bd3,Nf6,e5,Nfd7,Ne2,Qh4+,g3,Qd8,O-O,c5,c3,Nc6,Be3,Qb6,Qb3,Qc7,f4,c4,Bxc4,dxc4,Qxc4,Nb6,Qd3,Nd5,Nd2,Nxe3,Qxe3,Be7,g4,O-O,Ne4,a6,f5,exf5,gxf5,b5,f6,gxf6,Nxf6+,Bxf6,Rxf6,Kh8,Kh1,Rg8,Ng3,Rg7,Nh5,Rg6,Qf3,Be6,Rxg6,hxg6', 'Qf6+,Kh7,Qg7#', 'https://lichess.org/training/nPqZa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nprl8', 'Blitz', 'Veterok77', 1809, 'Rocket_Z', 1690, 'd4,Nf6,c4,e6,Nc3,c5,d5,e5,e4,d6,Bg5,Be7,Qc2,Bg4,f3,Bh5,h4,h6,Be3,Nbd7,O-O-O,a6,g4,Nxg4,fxg4,Bxg4,Be2,h5,Nf3,Bxh4,Nxh4,Bxe2,Qxe2,g5,Nf5,Nf6,Bxg5,b5,cxb5,axb5,Kb1,b4,Nb5,Qa5,Nbxd6+,Kf8,b3,Ng4,Nc4,Qa7,d6,f6,Bd2,Qxa2+,Kc1,Qa1+,Kc2,Ra2+,Kd3,Rxd2+,Qxd2,Qa8,Ke2,Qxe4+,Nce3,Rg8,d7,Kf7,Rxh5,Nh6,Rxh6,Rg2+,Kf1', 'Qf3+,Ke1,Rg1+,Nf1,Rxf1#', 'https://lichess.org/training/Nprl8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nPsjZ', 'Rapid', 'eylk', 1881, 'AntelioAugusto', 1630, 'd4,d5,c4,Nf6,Nf3,Nc6,g3,Bf5,Bg2,e6,O-O,dxc4,a4,Bb4,Bg5,Qd7,Nbd2,Ne4,Nxc4,Nxg5,Nxg5,Qxd4', 'Bxc6+,bxc6,Qxd4', 'https://lichess.org/training/nPsjZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NpTdc', 'Blitz', 'berserk40', 1927, 'FM Tematico', 2285, 'c4,c5,Nf3,g6,d4,Bg7,Nc3,cxd4,Nxd4,Nc6,Nc2,Nf6,e4,d6,Bg5,O-O,Ne3,Be6,g3,Rc8,Bg2,Ne5,b3,Qa5,Qd2,a6,Ncd5,Qxd2+,Kxd2,Bxd5,Nxd5,Nxd5,exd5,Nxc4+,bxc4,Bxa1,Rxa1,Rxc4,Bxe7,Rfc8,Bxd6,Rc2+,Ke3,R8c3+,Kd4,Rc4+,Ke3,R4c3+,Kd4,Rc4+,Ke3,R4c3+,Kf4', 'Rxf2+,Ke4,Rxg2', 'https://lichess.org/training/NpTdc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nptIJ', 'Rapid', 'Valinorsan', 1705, 'vahid_radaeii', 1735, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,bxc6,Nxe5,Qe7,d4,Nxe4,Be3,c5,dxc5,Qxe5,O-O,Qxb2,Qe2,Qxa1,f3,Qxa2,Re1,Nf6,Bg5+,Qe6,Qd2,Qxe1+,Qxe1+,Be7,Bxf6,gxf6,Nc3,a5,Nd5,O-O,Qxe7,Bb7,Nxf6+,Kg7,g4,a4,Nxd7,a3,Qg5+,Kh8,Nf6', 'a2,Qf5,a1=Q+', 'https://lichess.org/training/nptIJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nptZE', 'Blitz', 'PIYUSHNAIK', 1566, 'parenek', 1583, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,Bg4,f3,Bd7,Bxc4,c6,h3,e6,f4,Bb4,e5,Bxc3+,bxc3,Nd5,Bd2,b5,Bd3,O-O,Nf3,h6,O-O,f5,exf6,Nxf6,a4,bxa4,Rxa4,c5,Rb4,cxb4,cxb4,a6,Qb3,Nd5,Be4,Bb5,Rc1,Nd7,Bxd5,exd5,Qxd5+,Kh8,Ne5,Nxe5,Qxe5,Rc8,f5,Rxc1+,Bxc1,Qc8,Bxh6,Rf7,Bf4,Qxf5,Qb8+,Kh7,Bg3,Rf8,Qc7,Qb1+,Kh2,Qxb4,Be5,Rg8,Qf7,Qd2,Qf5+,Kh8', 'Qh5+,Qh6,Qxh6#', 'https://lichess.org/training/nptZE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NPvke', 'Rapid', 'Wolf21', 1753, 'ChessNOVATO', 1735, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Nf3,Bd7,Be2,Bc6,Qd2,Nd7,O-O-O,O-O,Qe3,Rad8,Ne5,Nxe5,dxe5,Rxd1+,Rxd1,Qh4,g3,Qxh2,Bf3,Bxf3,Qxf3,c6', 'Rh1,Qxh1+,Qxh1', 'https://lichess.org/training/NPvke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nPw0y', 'Classical', 'ragnost', 1798, 'airone123', 1690, 'Nf3,d5,g3,c6,c4,e6,d4,h6,Bg2,Nf6,Nc3,Bb4,O-O,dxc4,Ne5,O-O,Nxc4,Nbd7,Bf4,Nd5,Nxd5,exd5,Nd6,Bxd6,Bxd6,Re8,Re1,Nf6,Be5,Bg4,Bf3,Bf5,b4,a6,a4,Be4,Bxe4,Nxe4,f3,Ng5,h4,Ne6,e4,f6,exd5,fxe5,dxe6,Rxe6,Rxe5,Rxe5,dxe5,Qe7,Qb3+,Kh8,Re1,Rd8,f4,Rd5,Kf2,Qe6,Rd1', 'Rd2+,Rxd2,Qxb3', 'https://lichess.org/training/nPw0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NpxLY', 'Classical', 'RadomirStera', 1906, 'Hervelilichess', 1819, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Bg7,Nf3,O-O,e5,dxe5,Nxe5,Qxd1,Rxd1,Na6,Nd7,Rad8,Nxf6+,Bxf6,Rxd8,Rxd8,Bh6,Nb4,Ne4,Bxb2,Rb1,Nxa2,g3,Nc3,Nxc3,Bxc3,Rxb7,a5,Rxe7,Ra8,Re3', 'Bd2,Ra3,Bxh6', 'https://lichess.org/training/NpxLY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nPXNT', 'Rapid', 'castell12', 1841, 'Rog4l', 1819, 'e4,c5,Nf3,d6,Nc3,Nf6,e5,dxe5,Nxe5,g6,Bc4,e6,d3,Bg7,Bg5,O-O,Ne4,Nbd7,Ng4,a6,a3,b5,Ba2,Bb7,Qf3,Bxe4,dxe4,Qa5+,Bd2,Qb6,O-O,c4,Bc3,Nxg4,Bxg7,Nxh2,Kxh2,Kxg7,b3,cxb3,Bxb3,Rac8,Rad1,Ne5,Qf4,Qc7,Kg1,Nc6,Qxc7,Rxc7,Rd6,Ne5,Rxa6,Rd8,Rb6,Rc5,Rb7,Nc6,Bxe6,Nd4,Bxf7,Kf6,Bb3', 'Ne2+,Kh1,Rh5#', 'https://lichess.org/training/nPXNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nPxR6', 'Rapid', 'vlad1954', 1789, 'anshumantak', 1816, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nc3,O-O,e4,d6,Qe2,Bg4,O-O-O,Nbd7,e5,dxe5,dxe5,Nh5,h3,Bxf3,gxf3,Bxe5,Rxd7', 'Qxd7,Qxe5,f6,Qe4,fxg5', 'https://lichess.org/training/nPxR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('npZpF', 'Blitz', 'ch_soufiane', 1696, 's0nn1c', 1731, 'e3,g6,b3,Bg7,Nc3,b5,Qf3,b4,Qxa8,bxc3,d3,Nc6,d4,Nf6,Bb5,O-O,Bxc6,dxc6,Qxc6,Bd7,Qxc3,Ne4,Qd3,Bc6,Nf3,e5,Nxe5,Bxe5,dxe5,Qg5,Rg1,Rd8,Qc4,Bd5,Qxc7,Be6,Bb2,Rd7,Qb8+,Kg7,Bd4,Qh4,O-O-O,Nxf2,Rdf1,Qxh2,Kb1,Ne4,Rh1,Qxg2,Kb2,Qd2,Qe8,Qa5,Rf4,Qb4,Rhf1,Nd2,Rxf7+,Rxf7,Rxf7+,Bxf7,e6+,Kh6,Qxf7', 'Nc4+,Ka1,Qe1#', 'https://lichess.org/training/npZpF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nQ1fn', 'Rapid', 'phlegm', 1792, 'RookPawnBishop', 1784, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Ng5,d5,exd5,Nxd5,Qf3,Qxg5,Bxd5,Bg4,Qxf7+,Kd8,d3', 'Qxc1#', 'https://lichess.org/training/nQ1fn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nq3lP', 'Blitz', 'IM Rider_Diaz', 2638, 'JosueChess-Youtube', 2680, 'd4,Nf6,Nf3,c5,d5,e6,Nc3,d6,e4,a6,a4,exd5,exd5,Be7,Be2,O-O,O-O,Nbd7,Nd2,Re8,Nc4,Nb6,Ne3,Bd7,h3,Rb8,a5,Nc8,Nc4,Bb5,Bf4,Bf8,Nxb5,axb5,Ne3,b4,Bb5,Re4,Qf3,Ra8,Bd3,Re8,Nc4,b6,axb6,Rxa1,Rxa1,Nxb6,Ne3,Nbd7,Bb5,Ne5,Qd1,Re7,Nf5,Rb7,Bc6,Nxc6,dxc6,Rb6,Qf3,d5,c7,Qc8,Be5,Ne4,Bxg7,Qxc7,Ra8,Rb8,Be5', 'Qxe5,Rxb8,Qxb8,Qg4+,Kh8', 'https://lichess.org/training/Nq3lP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NQ6Cn', 'Blitz', 'WabbitOnTheRun', 2353, 'IM Dapsay', 2426, 'e3,d6,b3,g6,Bb2,Nf6,Nf3,Bg7,d4,O-O,Nbd2,c6,c4,Bg4,Qc2,a5,h3,Bf5,e4,Bc8,a3,Na6,Bd3,Nd7,O-O,Qc7,Rfe1,e5,Rac1,Re8,Qb1,exd4,Nxd4,Nac5,Bc2,Nf8,Qa1,Nfe6,Nxe6,Nxe6,Nf3,c5,Bxg7,Nxg7,e5,Be6,Rcd1,Rad8,exd6,Rxd6,Qe5,Red8,Qc3,h6,Ne5,b6,Nd3,Bf5,g4,Bxd3,Rxd3,Rxd3,Bxd3,Qd6,Be4,Ne6,Bd5,Nd4,Qe3', 'Nc2,Qe7,Nxe1', 'https://lichess.org/training/NQ6Cn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nq7Le', 'Rapid', 'mohammad-mansoori', 1607, 'Pavel79', 1676, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bg4,h3,Bh5,Be2,Nf6,O-O,e6,Bf4,Bd6,Be5,Bxe5,Nxe5,Bxe2,Qxe2,O-O,Nd2,Qb6,Nb3,Nc6,Rfe1,Nxd4,Nxd4,Qxd4,Nd3,Rac8,c3,Qb6,Rad1,Ne4,Ne5,Ng3,Qd2,Ne4,Qe2,Qd6', 'Qxe4,dxe4,Rxd6', 'https://lichess.org/training/nq7Le');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nq7Y6', 'Blitz', 'quetzatcoatl', 1798, 'CamusWasAbsurd', 1770, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,Nc3,Nc6,Qe3,Be7,d4,Nxd4,Qd3,c5,Be3,O-O,O-O-O,a6,f4,b5,Bd5,Nxd5,Nxd5,c4,Qd2,Bf6,f5,Bh4,Bxd4,exd4,Qxd4,Rc8,Kb1,b4,g4,c3,b3,Qa5,f6,Qa3', 'Ne7+,Kh8,fxg7#', 'https://lichess.org/training/nq7Y6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NQAbC', 'Rapid', 'Hartum', 2006, 'Ja45', 2046, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,Nh5,Bg3,Nxg3,hxg3,d5,Bd3,Bg4,Nbd2,e6,Qe2,Nd7,e4,dxe4,Bxe4,Bxd4,Qb5,Qf6,Nxd4,Qxd4,c3,Qb6,Qxb6,axb6,Bxb7,Ra7,Bc6,Ke7,Ne4,Ne5,Bb5,c6,Be2,Bf5,Ng5,h6,a3,Kf6,Nf3,Nd3+,Bxd3,Bxd3,O-O-O,Be4,Rh4,Bxf3,gxf3,Ke7,Rhd4,c5,Rd6,Rb7,Kc2,h5,Rc6,h4,gxh4,Rxh4,Rdd6,Rf4,Rxb6,Rxb6,Rxb6,Rxf3,a4,Rxf2+,Kb3,g5,a5,Rf1,Ka2,Rd1,Rc6,Rd5,a6,c4,Rc7+,Kf6,b4,cxb3+,Kxb3,Ra5,a7,g4,Kb4,Ra1,Rc4,Kf5', 'Rc5+,Kf4,Ra5,Rxa5,Kxa5', 'https://lichess.org/training/NQAbC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqaKX', 'Classical', 'tigranghazzarian', 2207, 'Wanggavin123', 2299, 'e4,e6,d4,d5,Nd2,c5,dxc5,dxe4,Nxe4,Qxd1+,Kxd1,Nc6,Be3,Be7,c3,Nf6,Nxf6+,Bxf6,Kc2,O-O,Nf3,e5,b4,Bf5+,Kb3,Rfd8,Bc4,e4,Nd2,Ne5,Be2,a5,a3,Nd3,Rhd1,a4+,Kc2,Nxf2,Rf1,Ng4,Bxg4,Bxg4,Nxe4,Be5,Bf4,Be2,Bxe5,Bd3+,Kb2,Bxe4,Bd4,Re8,Rf2,Bd3,Rd1,Bc4,h4,h5,Kc1,Be2,Re1,Bc4,Rxe8+,Rxe8,Rf5,Re1+,Kd2,Re2+,Kd1,Rxg2,Rxh5', 'Be2+,Kc1,Bxh5', 'https://lichess.org/training/nqaKX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqaYt', 'Rapid', 'TOPT', 1768, 'Mr_Greek', 2130, 'c4,e5,Nc3,Nf6,e4,Nc6,b3,Bc5,d3,d6,Be3,h6,Nf3,Bg4,Bxc5,dxc5,Be2,Bxf3,Bxf3,Nd4,O-O,Qe7,Be2,O-O-O,f4,Kb8,Nd5,Nxd5,cxd5,exf4,Rxf4,Qe5,Rf2,Rd6,Rc1,f6,Rxc5,c6,b4,cxd5,Qc1,Rc6,Rxc6,bxc6,Qc5,Kb7,Bd1,Ne6,Qe7+,Kb6,a4,Rb8,exd5,Qxd5,Ra2,Qxa2,a5+,Ka6,Kf1,Nc7,Be2,Qa1+,Kf2,Qd4+,Kf1,Qf4+,Kg1,Qe5', 'd4+,Qxe2,Qxe2+', 'https://lichess.org/training/nqaYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqc40', 'Classical', 'nato8797', 1706, 'leopogerar', 1675, 'd4,d6,c4,Nd7,Nc3,g6,Nf3,Bg7,e3,Ngf6,Bd3,O-O,O-O,c5,Re1,Re8,Bd2,a6,Rc1,cxd4,exd4,e5,Qb3,exd4,Nxd4,Rxe1+,Rxe1,Nc5,Qc2,Nxd3,Qxd3,Bf5,Nxf5,gxf5,Qxf5,Qb6,b3,Qd4,Nd5', 'Qxd2,Nxf6+,Bxf6', 'https://lichess.org/training/nqc40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nQD6I', 'Rapid', 'iOneMasSlow', 1781, 'narayans', 1723, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,c4,e6,Nc3,Bb4,Bd3,Nge7,O-O,O-O,a3,Ba5,b4,Bc7,b5,Na5,c5,Nf5,Re1,Qf6,Bxf5,Qxf5,Ne5,f6', 'g4,Qxf2+,Kxf2', 'https://lichess.org/training/nQD6I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NQe9l', 'Rapid', 'GrOb234', 1875, 'econtardo', 1833, 'Nf3,Nc6,g3,Nf6,Bg2,e5,d3,h6,O-O,d6,c4,Be7,Nc3,O-O,Qb3,b6,Qb5,Bd7,Qb3,Rb8,Bd2,Bg4,Rac1,Nd4,Qa4,Nxf3+,exf3,Bf5,Qxa7,Bxd3,Rfd1,Bxc4,Ne4,Ra8,Qb7,Bd5', 'Nxf6+,Bxf6,Qxd5', 'https://lichess.org/training/NQe9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqeLc', 'Rapid', 'Parisottao', 1761, 'neostreet', 1799, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Qf6,Qe3,Be6,Nb5,Qe7,Qc3,c6,Nd4,Nf6,Nxc6,Nxe4,Qf3,bxc6,Qxe4,Bd5,Qe3,Qxe3+,Bxe3,Be7,Bd3,O-O,c4,Bxg2,Rg1,Bh3,Bh6,Bf6,O-O-O,Kh8,Bf4,Be5,Bxe5,dxe5,Rg3,Be6,Rdg1,Rg8,Be4,Bxc4,Bxh7,Rgd8,Rxg7,Bxa2,Bc2,Bd5,R7g4,Rg8', 'Rh4#', 'https://lichess.org/training/nqeLc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nQFkL', 'Blitz', 'amirmaim', 1912, 'CaminantePlus', 2272, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Nf3,e6,Be3,Be7,Be2,O-O,O-O,dxc4,Bxc4,a6,Ne5,Nb4,a3,Nbd5,Kh1,Nxc3,bxc3,b5,Bd3,Bb7,f4,Rc8,Bd2,Qd5,Qe2,Ne4,Be1,g6,Rf3,Nxc3,Bxc3,Rxc3,Be4,Qxe4,Qxe4,Bxe4,Rxc3,f6,Nf3,Rd8,Rc7,Bd6,Ra7,Bxf4,Rxa6,Bd5,Rb1,Bc4,Ra7,g5,h3,h5,a4,g4,axb5,gxf3,b6,fxg2+,Kxg2,Bd5+,Kf2,Rc8,b7,Rc2+', 'Ke1,Bb8,Ra8,Kf7,Rxb8', 'https://lichess.org/training/nQFkL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nQI6r', 'Blitz', 'Zebra5555', 1735, 'Coca-Colych', 1739, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,dxc6,Qxd8+,Kxd8,e5,Nd5,Bc4,Be7,O-O,Be6,Na3,Kd7,Bd2,Rad8,Rad1,Kc8,Rfe1,b5,Be2,Nb4,c3,Nxa2,Nc2,a5,Nd4,Bd5,Bg4+,Kb7,Nf5,Bf8,Nd4,b4,cxb4,Nxb4,Ra1,c5,Nb5,Nc2,Rxa5,Nxe1,Bxe1,Ra8', 'Rxa8,Kxa8,Nxc7+,Kb7,Nxd5', 'https://lichess.org/training/nQI6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nqib0', 'Rapid', 'Aayatollah', 1672, 'syedparwez', 1650, 'e4,c5,Bc4,Nc6,Qf3,Ne5,Qb3,Nxc4,Qxc4,Nf6,d3,Qa5+,Bd2,Qd8,Nc3,d6,O-O-O,Bd7,Bg5,h6,Bxf6,exf6,f4,Be7,f5,b5,Qb3,b4,a4', 'bxc3', 'https://lichess.org/training/Nqib0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nQIcY', 'Blitz', 'NM Marohzevich', 2508, 'Synbulatov_VV', 2464, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bc4,Qb6,Ndb5,a6,Be3,Qd8,Nd4,e6,Qe2,Qc7,O-O-O,b5,Bb3,Bb7,Rhe1,Ne5,Kb1,Nc4,Bg5,Rc8,Bc1,Be7,f4,b4,e5,bxc3,exf6,gxf6,bxc3,Kf8,Qh5,h6,Rxe6,Na5,Re3,Nxb3,axb3,Bxg2,Rde1,Qc5,Nf5,Bd5,Rxe7,Qxc3,R7e2,Bxb3,cxb3,Qxb3+,Bb2,Qd3+,Ka1,Qb5,Re3,Qa4+,Ra3,Qb4,Qh4,Rc2,Rb1', 'Rxb2,Rxb2,Qxa3+,Kb1,Qd3+', 'https://lichess.org/training/nQIcY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqK3s', 'Rapid', 'lessa1907', 1867, 'abraamats', 1879, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,h3,a6,c3,h6,Bb3,Nf6,O-O,O-O,Re1,Be6,Bc2,Bb6,d4,exd4,cxd4,d5,e5,Nd7,Qd3,f5,exf6,Qxf6,Qh7+,Kf7,Bxh6', 'Qxh6,Qxh6,gxh6', 'https://lichess.org/training/nqK3s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqMkj', 'Classical', 'ugniy', 1692, 'gerardo94', 1711, 'e4,c6,Nf3,d5,e5,Bg4,h3,Bxf3,Qxf3,e6,d4,Nd7,c3,c5,b3,Qb6,Be3,cxd4,cxd4,Bb4+,Nd2,Rc8,Qf4,Ne7,Bd3,Nc6,O-O,Bxd2,Bxd2,Qxd4,Qxd4,Nxd4,Be3,Nc6,Rac1,O-O,f4,d4,Bd2,Nb6,a3,Nd5,Bc4,Rfd8,Rfe1,Nce7,g4,Nb6,Bd3,Rxc1,Rxc1,Rc8,f5,exf5,gxf5,Rc6,Re1,Ned5,Re4,f6,e6,Ne7,Rxd4,h6,Rd7', 'Nxd7,exd7,Rd6', 'https://lichess.org/training/nqMkj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqmU0', 'Rapid', 'pranavv007', 2072, 'siddhantssalunke', 1963, 'e4,d6,d4,c6,c4,Nf6,Nc3,e6,Bd3,Nbd7,Nge2,b6,O-O,Bb7,b3,Be7,Bb2,Qc7,Rc1,O-O,f4,Ne8,Ng3,c5,d5,exd5,cxd5,Nef6,Kh1,a6,Nf5,Rfe8,Qf3,Nf8,Qg3,Ng6,Bb1,Qd7,Rcd1,Bf8,e5,dxe5,fxe5,Nxe5,Nh6+,Kh8,Rxf6,gxf6,Ne4,Bg7,Qh4,Bxd5,Nxf6,Bxg2+,Kxg2,Qxd1', 'Nxf7+,Nxf7,Qxh7#', 'https://lichess.org/training/nqmU0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NQMXS', 'Classical', 'Govindram', 1841, 'danmanning', 1755, 'e4,c5,Bc4,e6,e5,Nc6,Nf3,Qc7,Nc3,Nxe5,Nxe5,Qxe5+,Be2,Nf6,d3,Be7,O-O,Bd6,f4,Qd4+,Kh1,a6,Bd2,Bc7,b3,O-O,Na4,Qd6,Qc1,b5,Nc3,Bb7,Ne4,Nxe4,dxe4,Qc6,Bf3,Rab8,f5,Qd6,g3,Qd4,c3,Qf6', 'Bg5,Qe5,Bf4', 'https://lichess.org/training/NQMXS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NqoBY', 'Rapid', 'mohammad_sadegh', 1966, 'Christopho', 2004, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,d3,a6,Nf3,b5,Bb3,e6,h4,Bb7,O-O,Nc6,Re1,Bc5,Ng5,Nd4,Nge4,Nxb3,axb3,Bb6,Bg5,h6,Bxf6,gxf6,Qh5,f5,Ng5,Qf6', 'Rxe6+,Qxe6,Nxe6', 'https://lichess.org/training/NqoBY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nQPLr', 'Rapid', 'Pikkuherkko', 1925, 'Dhruvmuthe', 1819, 'd4,Nf6,Nf3,d5,c4,c5,cxd5,Nxd5,Nc3,Nxc3,bxc3,g6,e4,Bg7,Bc4,Nc6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Bb5+,Kf8,Qxd4,Bxd4,Rd1,Bxa1', 'Bh6+,Bg7,Rd8#', 'https://lichess.org/training/nQPLr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqPsa', 'Blitz', 'The_Chosen_Jan', 2160, 'WIM Susik_Gaboyan', 2293, 'd4,Nf6,c3,g6,Nd2,d6,e4,Bg7,Bd3,O-O,h4,Nbd7,h5,Nxh5,Rxh5,gxh5,Qxh5,e5,dxe5,Nxe5,Bc2,Bg4,Qh2,Qf6,Ngf3,Qh6,Qg3,Nxf3+,Nxf3,Qh1+,Ke2,h5,b3,Bxc3,Rb1,Qe1+,Kd3,Qf1+,Kxc3,Qb5,Bh6,Rfe8,Nh4,Qc5+,Kb2,Qe5+,Qc3,Qxc3+,Kxc3,Kh7,Be3,Be6,f3,c6,Nf5,d5,exd5,Bxd5,Nd6+,Kg7,Nxe8+,Rxe8,Be4,Be6,Bd4+,Kg8,Rh1,f5,Bd3,Bf7,g4,c5,Bf6,Re6,g5,b5,Bxf5,Re3+,Kb2,Rxf3,Bc8,Rf2+,Ka3', 'b4+,Ka4,Be8+,Bd7,Bxd7+,Ka5,Rxa2#', 'https://lichess.org/training/nqPsa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nQpvs', 'Blitz', 'ziba-poorian', 1796, 'kakawka', 1761, 'e4,c5,d3,Nc6,Be2,d5,f4,dxe4,Nc3,exd3,Bxd3,Nf6,Nf3,Bg4,O-O,e6,Qe1,Be7,Ne5,Nxe5,fxe5,Nd5,Nxd5,Qxd5,Be3,O-O,Be2,Bxe2,Qxe2,Qxe5,Qf3,Qxb2,Rad1,Qxc2,Kh1,Rad8,Rde1,Rd3,Qg4,Kh8,Bg5,Bxg5,Qxg5,Rd5,Qf4,Kg8,Rxe6,Qxa2', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/nQpvs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nQQjf', 'Rapid', 'gattino', 1619, 'zubarra', 1657, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Bxc6,bxc6,O-O,Bg4,Re1,exd4,h3,Bxf3,Qxf3,Nf6,Bg5,Be7,e5,dxe5,Rxe5,Qd6,Bxf6,Qxf6,Rf5,Qe6,Nd2,O-O,Kf1,c5,Re1,Qd6,Nc4,Qa6,Rxe7,Qxc4+,Kg1,Qxa2,Rexf7,Rxf7', 'Qxa8+,Rf8,Qxf8#', 'https://lichess.org/training/nQQjf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqsKq', 'Blitz', 'odbany', 1821, 'Tripletth', 1834, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nf6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,a5,c4,Bb4+,Kf1,O-O,a3,Bd6,Ne5,Bxe5,Bxe5,Nbd7,Bf4,Nc5,Qe3,Ncd7,Rh3,Ng4,Qf3,Ndf6,Rd1,Qb6,Ne4,Nxe4,Qxe4,Qxb2,Be3,Nxe3+,Qxe3,Rad8,Rg3,f5,Qxh6,Rf7,Qxe6,Rxd4,Qe8+,Rf8,Rxg7+,Kxg7,h6+,Kg8', 'Qg6+,Kh8,Qg7#', 'https://lichess.org/training/nqsKq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NQtLG', 'Blitz', 'MasterJadi2An', 2339, 'aparhut', 2308, 'Nc3,Nf6,a4,e6,b3,d5,e3,a6,Bb2,Bb4,Nf3,O-O,Be2,Nbd7,O-O,e5,Na2,Bd6,d3,c5,Nc3,Rb8,e4,d4,Nb1,b5,axb5,axb5,Na3,Re8,Ne1,Nf8,g3,Bh3,Ng2,h6,Bc1,N8h7,Nb1,Qd7,f4,Kh8,f5,g5,fxg6,fxg6,Bxh6,g5,Bxg5,Nxe4,Bh4,Nc3,Nxc3,dxc3,Bh5,Rf8,Qe2,c4,bxc4,Bc5+,Kh1,Bd4,cxb5,Qd5,Bg4,Bxg4,Qxg4,Rxf1+,Rxf1,Rxb5,Rf8+,Nxf8', 'Bf6+,Kh7,Qg7#', 'https://lichess.org/training/NQtLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqU7u', 'Rapid', 'iantatto', 2093, 'HotshotSuperBullet', 2014, 'e4,c5,Bc4,e6,Nc3,Ne7,d4,cxd4,Qxd4,Nbc6,Qd1,Ne5,Bb3,N7c6,Nf3,Bb4,Nxe5,Nxe5,O-O,Bxc3,bxc3,O-O,Qd4,Nc6,Qe3,b6,Bb2,a5,a4,Ba6,Rfd1,Ra7,c4,Qb8,Rd3,Ne5,Bxe5,Qxe5,Rad1,Qc7,Rxd7,Qxd7,Rxd7,Rxd7,h3,Rd1+,Kh2,Rb8,Qf4,Rc8,e5,Rd7,Qg4,Bb7,c5,bxc5,Qe2,Rdc7,Bc4,Bc6,Ba6,Ra8,Bb5,Bd5,c4,Bb7,f4,Rd8,Qe1,Ra8,Qd2,Be4,Qd6,Rcc8,Qe7,Rd8,Bd7,Rab8,h4,h6,h5,Bd3,Bb5,Be4,Qxc5,Rd2,Qe3,Rxg2+,Kh3,Bb7', 'Qa7,Rd8,Qxb7', 'https://lichess.org/training/nqU7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NQUdo', 'Blitz', 'royalspleen', 1578, 'e-happiness', 1589, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,O-O,Qd2,b6,Bh6,Bb7,Bxg7,Kxg7,h4,d6,h5,Nxh5,Rxh5,gxh5,Qg5+,Kh8,Qxh5,Nd7,Bd3,Nf6,Qh6,e5,f4,Rg8,fxe5,dxe5,dxe5,Ng4,Qh5,Qg5,Qxf7,Qe3+,Nge2,Qf2+,Kd2,Qxg2,e6,Ne5,Qh5,Nf3+,Ke3,Ng5,e5,Rae8,Rh1,Rxe6', 'Qxh7+,Nxh7,Rxh7#', 'https://lichess.org/training/NQUdo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NquyC', 'Classical', 'LordSalazar', 2032, 'bakasetas', 1907, 'd4,d5,c4,c6,c5,Bf5,Nc3,Nf6,h3,Nbd7,Nf3,g6,Bf4,Bg7,e3,Ne4,Bd3,e6,O-O,O-O,Bxe4,Bxe4,Nxe4,dxe4,Ne5,Bxe5,Bxe5,Nxe5,dxe5,Qg5,Qd7,Rab8,f4,exf3,Rxf3,Qxe5,Raf1,f5,g4,Rfd8,Qe7,Rd2,R1f2,Rxf2,Kxf2,Qxb2+,Kg3,Qe5+,Kh4,Rf8,gxf5,gxf5', 'Rg3+,Qxg3+,Kxg3', 'https://lichess.org/training/NquyC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NQV4K', 'Classical', 'morrismular', 1846, 'nageVic', 1796, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,Ng5,O-O,d3,h6,Nf3,Na5,Bb3,Nxb3,axb3,c6,Nxe5,Re8,f4,d5,d4,Bb6,h3,Nxe4,Nxe4,dxe4,Qh5,Be6,Be3,Bxd4,Bxd4,Qxd4,Rd1,Qxb2,O-O,Qxc2,Kh1,f6,Ng4,Bf7,Qf5,Be6,Qg6,Bxg4,hxg4,Rad8,Ra1,a6,g5,fxg5,fxg5,Qd2,Rf7,Qxg5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/NQV4K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqvj3', 'Rapid', 'Meirzhanzhurynbaev', 1940, 'Orateur', 2070, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,Bg4,Bb5+,Nc6,h3,Bh5,g4,Bg6,Ne5,Rc8,Qf3,Ne4,Nxg6,hxg6,Nxe4,dxe4,Qxe4', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/nqvj3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NqvpM', 'Rapid', 'Hugo-RP', 2052, 'Raymond035', 2119, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Bg5,Bd6,Nf3,O-O,O-O,Bg4,Nbd2,Nbd7,h3,Bh5,c3,c6,Qb3,Qc7,Rae1,h6,Bh4,g5,Bg3,Bxg3,fxg3,Qxg3,Re3,g4,hxg4,Bxg4,Qxb7,Rab8,Qxc6,Rxb2,Re2,Bxf3,Nxf3,Rxe2,Bxe2,h5,Nh2,h4,Rf3,Qg5,Qd6,Kh8,Qf4,Rg8,Qxg5,Rxg5,Bb5,Kg7,Rh3,Rh5,Nf3,a6,Bxd7,Nxd7,Rxh4,Rf5,Rg4+,Kf6,Kf2,Nb6,Ke3,Nc4+,Ke2,Ke7,Rg5,Rxg5,Nxg5,Kf6,Nf3,Kf5,Ne5,Nxe5,dxe5,Kxe5,Ke3,a5,a4,f5,g3,Ke6,Kd4,Kd6,Kd3,Kc5,Ke3', 'Kc4,Kd2,Kb3,Kd3,Kxa4', 'https://lichess.org/training/NqvpM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqVrt', 'Rapid', 'TbirdV', 1622, 'tato3000', 1601, 'd4,d5,c4,Nf6,e3,Bf5,Nc3,c6,Qb3,Qc7,cxd5,cxd5,Bb5+,Bd7,Nxd5,Nxd5,Qxd5,e6,Bxd7+,Qxd7,Qb3,Nc6,Ne2,Bb4+,Nc3,Bxc3+,bxc3,O-O,O-O,b6,Ba3,Na5,Qc2,Rfc8,Bb4,Nc4,Qe4,a5,Bxa5,Rxa5,Rfd1,f5,Qh4,Qf7,Rdb1,b5,Rb4,Nd2,a4,Rxc3', 'Qd8+,Qf8,Qxa5', 'https://lichess.org/training/nqVrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nQw29', 'Rapid', 'apollo017', 1975, 'Ade33', 1891, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bd3,Bd7,O-O,O-O,h3,a6,Qf3,Nc6,Be3,Ne5,Qg3,Nxd3,cxd3,Re8,Nf5,Bxf5,exf5,Qd7,Bh6,Bf8,Bg5,Qxf5,Rfe1,Kh8,Bxf6,Qxf6,Nd5,Qd8', 'Rxe8,Qxe8,Nxc7,Qd8,Nxa8', 'https://lichess.org/training/nQw29');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqWMv', 'Classical', 'harvey101', 1669, 'orchinus', 1665, 'e4,c5,Nf3,Nc6,Be2,e6,O-O,Nge7,Nc3,d5,e5,Qc7,d4,cxd4,Nxd4,a6,Nxc6,Nxc6,f4,Bc5+,Kh1,b5,Bd2,Nd4,Bd3,Bd7,Be3,Nxc2,Qxc2,Bxe3,Rf3,Bc5,Re1,b4,Nd1,a5,f5,exf5,Bxf5,Bxf5,Qxf5,O-O,Qh5,g6,Qh6,Be7,Rh3,Bh4,Rxh4,f5,exf6,Rae8,Rg1,Rxf6,Ne3,Rf7,Nxd5,Qa7,Rf4,Rxf4,Nxf4,Qe3,h3,Rf8,Rf1,Qd2,h4,Rf5,h5', 'Rxh5+,Qxh5,gxh5', 'https://lichess.org/training/nqWMv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NqWrm', 'Blitz', 'abobasell', 1549, 'Snakeyes97', 1584, 'e4,e5,Nf3,Nf6,Bc4,Nc6,Nc3,Bc5,O-O,O-O,d3,h6,Nd5,d6,c3,a6,a3,b5,Ba2,Bg4,h3,Bxf3,Qxf3,Nd7,Be3,Ne7,d4,Ba7,dxe5,Nxe5,Nxe7+,Qxe7,Qg3,Qf6,Bxa7,Rxa7,b3,c5,Rad1,Rd7,f4,Nc6,e5,Qe6,exd6,Rxd6', 'f5,Rxd1,fxe6,Rxf1+,Kxf1', 'https://lichess.org/training/NqWrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NqXbn', 'Rapid', 'iedopadzert', 1759, 'G0R', 1758, 'e4,e6,Nf3,d5,exd5,exd5,Qe2+,Be7,d4,Nf6,h3,O-O,Nc3,Re8,Qd3,Bd6+,Be2,Ne4,Nxe4,dxe4,Qc3,exf3,Qxf3,Nd7,O-O,Nf6,Bd3,Be6,Bg5,Be7,Rae1,Qd7,Bxf6,Bxf6,b3,Bxd4,a4,Rad8,Qe4,Bxh3', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/NqXbn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nqXQE', 'Blitz', 'zaidejas123', 1649, 'nikolakakasqweasdzxc', 1686, 'b3,f5,Bb2,Nf6,e3,g6,Bc4,Bg7,Nf3,e6,O-O,O-O,d4,d5,Be2,Nbd7,Ba3,Re8,Nc3,c6,Ne5,Nxe5,dxe5,Nd7,f4,g5,Bh5,gxf4,Bxe8,Qxe8,Rxf4,Bxe5,Bb2,Bxf4,exf4,Qf7,Qd4,Qg7,Qxg7+,Kxg7,Nxd5+,Kf7,Ne3,Nc5,Rd1,Ne4,Rd8,Ke7,Rh8,Kd6,Nc4+,Kd5,Rxh7,b5,Na5,Ba6,Rc7,b4,Rxc6,Bc8,Rc7,Ba6,Rd7+,Kc5,Re7,Rd8,h3,Rd1+,Kh2,Rd2,Rxe6,Bf1,h4', 'Rxg2+,Kh3,Rxc2#', 'https://lichess.org/training/nqXQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NqZAO', 'Rapid', 'apollo017', 2012, 'CosyCat', 1786, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qd8,Nf3,Nf6,h3,Bf5,Nh4,Bg6,Nxg6,hxg6,Bd3,e6,Qe2,Nbd7,O-O-O,a5,a3,b5,Ne4,b4,a4,b3,cxb3,Qb6,Bc4,Qxd4,Bc3', 'Qxe4,Qxe4,Nxe4', 'https://lichess.org/training/NqZAO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NqZSM', 'Rapid', 'mshisha', 1908, 'Voroshilov', 1903, 'e4,d6,d4,g6,Nf3,Bg7,Bd3,Bg4,Be3,Nc6,h3,Bd7,c4,a6,O-O,h5,Nc3,e5,d5,Nd4,b4,Bg4,hxg4,hxg4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/NqZSM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NqZwS', 'Classical', 'kondukator0', 2146, 'TheDragonGambit', 2154, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,c5,Nc3,O-O,d5,d6,Be2,Qb6,a3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/NqZwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NqZwv', 'Classical', 'AhmedHussinRaGaB', 2105, 'NetworkZero', 2370, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,Qe7,g3,Bxd2+,Nbxd2,d6,Bh3,O-O,O-O,e5,Bxc8,Rxc8,Qb3,c5,d5,e4,Nh4,g6,Ng2,a5,f3,a4,Qe3,Re8,Rac1,Nbd7,Rf2,Rab8,Nxe4,Nxe4,fxe4,Qxe4,Qf4,Qxf4,Nxf4,b5,cxb5,Rxb5,Rc2,Kg7,Rf1,Reb8,Nd3,Re8,Rf4,Ra5,Rd2,Nf6,Nf2,Re5,Rxf6,Kxf6,Ng4+,Kf5,Nh6+,Ke4,Nxf7,Rh5', 'Nxd6+,Ke3,Nc4+', 'https://lichess.org/training/NqZwv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NR0JE', 'Blitz', 'NM evandrorsilva', 2126, 'Imikan', 2151, 'd4,d5,c4,Nf6,Nf3,c6,Nc3,Bf5,Bg5,e6,e3,Be7,h3,O-O,Ne5,dxc4,Bxc4,Nd5,Bxe7,Qxe7,Qf3,Qb4,Bxd5,Qxb2,O-O,Qxc3,Bb3,Qb4,g4,Bg6,h4,h6,Nxg6,fxg6,Bxe6+,Kh7,Qg3,Na6,h5,g5,Bb3,Rae8,Rac1,Qe7,Bc2+,Kh8,e4,Nb4,Bb1,Qf6,e5,Qf3,a3,Nd5,Qxf3,Rxf3,Be4,Rxa3,Bxd5,cxd5,Rc7,Rd3,Rxb7,Rxd4,Rxa7,Rxg4+,Kh2,Rh4+,Kg3,Rxh5,Re1,g4,e6,Rf5,Kxg4,Rxf2,e7,Rf7,Rd7,d4', 'Rd8,Rxe7,Rxe8+,Rxe8,Rxe8+', 'https://lichess.org/training/NR0JE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nr0Vr', 'Classical', 'Anavissos', 1642, 'ramnent', 1721, 'd4,d6,Bf4,f5,Nf3,Nc6,e3,e5,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bxe5,Be6,c3,Bd6,Bxd6,cxd6,Bd3,Nf6,Nd2,Ke7,O-O-O,Bxa2,b3,Nd5,Kb2,a5,Ra1,b5,Rxa2,a4,bxa4,bxa4,Bxf5,a3+,Rxa3,Rhb8+,Ka2', 'Nxc3+,Ka1,Rxa3#', 'https://lichess.org/training/nr0Vr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NR1DK', 'Blitz', 'Ialwayshangmyking', 2127, 'mcello', 2202, 'e3,e5,d4,e4,c4,Nf6,Nc3,c6,d5,Bb4,Ne2,O-O,a3,Bd6,dxc6,dxc6,Ng3,Re8,Be2,g6,Qc2,Bf5,O-O,h5,Nxf5,gxf5,b4,Ng4,h3,Qh4,Bxg4,hxg4,c5,Be5,Bb2,gxh3,g3,Bxg3', 'fxg3,Qxg3+,Kh1,Qg2+,Qxg2+,hxg2+,Kxg2', 'https://lichess.org/training/NR1DK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NR1xz', 'Rapid', 'Ronaldo1974', 2033, 'domyaty', 1961, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Bd3,O-O,Qd2,c6,O-O-O,Nbd7,h4,Re8,f3,Nb6,b3,Nfd7,Nh3,f6,Bf4,Nf8,g4,Bd6,g5,Bxh3,Rxh3,a5,Rg1,Qe7,gxf6,Qxf6,Bxd6,Qxd6,Qg5,Ng6,Bxg6,hxg6,Qxg6,Re1+,Kb2', 'Nc4+,bxc4,Qb4#', 'https://lichess.org/training/NR1xz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nr2n4', 'Rapid', 'palmipede84', 1682, 'Unkle_G', 1677, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd2,Bxe4,Nxe4,Bxd2+,Qxd2,Nc6,O-O-O,Nf6,Nxf6+,Qxf6,Qc3,O-O,Bb5,Rfd8,Bxc6,dxc6,Qxc6,a5,Qxc7,b5,Rhf1,Qg6,Ne5,Qf5,Rd2,Rac8,Qxa5,Rxd4,Nd3,Rxd3,Kb1,Rxd2,Qxd2,b4,Rd1,g6,b3,Ra8,Qxb4,Qxf2,Qe4,Qa7,a4,Rc8,Kb2,Qc5,Rd2', 'Qc3+,Kb1,Qxd2', 'https://lichess.org/training/nr2n4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nR2xO', 'Rapid', 'edras_brasil', 1897, 'Rt9999', 1796, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,b5,O-O,Bb7,f3,e6,Be3,Nbd7,a3,Rc8,Rc1,Nb6,h3,Nfd7,Qe1,d5,exd5,Nxd5,Nxd5,Bxd5,c3,Nb6,Qg3,Nc4,Bxc4,Bxc4,Rfe1,g6,Bg5,Be7,Bxe7,Qxe7,Kh1,O-O,b3,Bd5,Qe5,f6', 'Qxd5,exd5,Rxe7', 'https://lichess.org/training/nR2xO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nR3RZ', 'Rapid', 'Greybeard23', 1682, 'OKALE', 1721, 'Nf3,c6,c4,g6,d4,Bg7,b3,c5,Bb2,cxd4,Nxd4,Nf6,Nf3,Nc6,a3,O-O,g3,d6,Bg2,Qa5+,Bc3,Qb6,O-O,Bd7,Bb2,Na5,Nd4,Nxc4,bxc4,Qxb2,Nb3,Ba4,N1d2,Nd7,Rb1,Qxa3,Qc1,Qxc1,Rfxc1,Rab8,Na5,Nc5,Nxb7,Nxb7,Bxb7,Bd7,Bg2,Bf5,Ra1,Bxa1,Rxa1,Rb2,e4,Be6,Nf3,Rc8,Rxa7,Rb1+,Bf1,Rxc4,Nd2,Rxf1+,Kxf1,Rc2,Ke1,Kf8,Ra8+,Kg7,Re8,Kf6,e5+,dxe5,Ne4+,Kf5,f3,Rxh2,Rxe7,Rh1+,Kf2,Rh2+,Ke3,Rh1', 'g4#', 'https://lichess.org/training/nR3RZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nR44X', 'Rapid', 'the_amazing_tommy', 2144, 'almoajedrez', 2312, 'd4,e5,Nf3,exd4,Nxd4,Nf6,Bf4,d6,e3,Be7,c3,O-O,Bd3,Bg4,Qb3,Nbd7,Qxb7,Rb8,Qxa7,Ra8,Qb7,Nc5,Qb5,Rb8,Qc4,d5,Nc6,dxc4,Nxd8,Nxd3+,Kf1,Rxb2,Nc6,Rxf2+,Kg1,Be2,Nxe7+,Kh8,Nd2,Rxf4,exf4,Nxf4,a4,Re8,Nf5,g6,Nd4,Bd3,h3,Ne2+,Nxe2,Rxe2,Nf3,Be4,Ne1,Kg7,Kh2,Rb2,Rf1,c5,Rf4,Re2,a5,Bd5,a6,Re3,a7,Rxc3,a8=Q,Bxa8,Rxa8,Rc1,Nf3,Nd5,Re4,c3,Ra7,c2,Rc4,Ne3,Rxc5,Nf1+,Kg1,Nd2+,Kf2', 'Ne4+,Ke2,Nxc5', 'https://lichess.org/training/nR44X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nR47T', 'Blitz', 'FM pisica12', 2392, 'IM pedrada88', 2470, 'e4,c5,Nf3,Nc6,c4,g6,Nc3,Bg7,g3,e6,Bg2,Nge7,O-O,Nd4,d3,Nec6,Ne1,O-O,f4,d6,g4,a6,a4,f5,exf5,gxf5,g5,Rb8,h4,Kh8,h5,h6,g6,Qh4,Be3,e5,Nd5,Be6,b4,Bxd5,Bxd5,Nxb4,Bg2,Nbc6,Rb1,exf4,Rxf4,Qg3,Nf3,Rbe8,Qd2,Ne5,Nxd4,cxd4,Bf2,Qg5,Rd1,Qxh5,Bxd4,Nxg6,Bxg7+,Kxg7,Rf2,f4,Bf3,Qg5+,Rg2,Qf6,Be4,Rxe4,dxe4,f3,Rg3', 'f2+,Kf1,Qh4', 'https://lichess.org/training/nR47T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nr5iD', 'Blitz', 'SFA_Gang', 2422, 'NM Valera_B5', 2801, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,dxe5,Nxe5,c6,Be2,Bf5,O-O,Nd7,Bf4,Nxe5,Bxe5,e6,Nd2,f6,Bg3,Bd6,c3,O-O,Re1,Bxg3,hxg3,Qd7,Nf1,Rae8,Bf3,Bg6,Ne3,Re7,a4,Rfe8,Nc4,Bf7,Qc2,Qc7,Re2,c5,dxc5,Qxc5,Bxd5,exd5,Rxe7,Rxe7,Ne3,d4,cxd4,Qxd4', 'Nf5,Qe5,Nxe7+', 'https://lichess.org/training/Nr5iD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nr60O', 'Blitz', 'DVRazor', 2276, 'Solarspion', 2235, 'e4,c5,Nf3,Nc6,Nc3,Nf6,d4,cxd4,Nxd4,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,f5,Bd3,Bg7,O-O,Ne7,Nxe7,Qxe7,c4,b4,Nc2,a5,exf5,O-O,Be4,Bb7,Bxb7,Qxb7,Ne3,Bh6,Nd5,Rac8,f6,Rxc4,Qh5,Qxd5,Qxh6,Rg4,Rac1,Rg6', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/nr60O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nr6Ku', 'Classical', 'jolepole', 1998, 'ayub83', 2020, 'd4,Nf6,c4,c5,d5,e5,dxe6,fxe6,a3,d5,e3,Nc6,Nf3,Bd6,Bd3,O-O,O-O,a6,Re1,Qc7,b3,h6,Bg6,Ng4,g3,Nce5,Nxe5,Nxf2,Qh5,Bxe5,Ra2,Ne4,Bxe4,dxe4,b4,Bd7,Bb2,Bxg3,Bxg7,Kxg7,Rg2,Kh7,Rxg3,Be8,Qd1,Qf7,Nd2,Rd8,Qe2,Qf5,Rf1,Rxd2', 'Rxf5,Rxe2,Rxf8', 'https://lichess.org/training/nr6Ku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nR8bK', 'Rapid', 'LLLCCC', 2101, 'nininj', 2116, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Bc4,e6,b3,b5,Be2,Bb7,d3,Ngf6,a4,Be7,Bb2,b4,Nbd2,O-O,h3,Nh5,g3,Bf6,e5,Nxe5', 'Nxe5,Nxg3,fxg3', 'https://lichess.org/training/nR8bK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nr9jl', 'Rapid', 'retsamdnargeht', 2103, 'saloumacharouka', 2017, 'd4,Nf6,c4,d6,g3,g6,Bg2,Bg7,Nc3,O-O,e4,e5,d5,Nbd7,h3,Nb6,Bf1,Ne8,g4,c6,Be3,cxd5,cxd5,Bd7,Qd2,Rc8,O-O-O,Na4,Ne2,Nf6,Kb1,Nxc3+,Nxc3,a6,Bd3,b5,f3,Qa5,h4,b4,Ne2,Ba4,Rdg1,Nd7,h5,Nc5,Bxc5,dxc5,Ng3,c4,hxg6,fxg6,Bc2,Bxc2+,Qxc2,b3,axb3,cxb3,Qxb3,Rb8,Qd3,Qb4,Rg2,a5,Rgh2,a4,Ka2,Rb6,Rc2', 'Qb3+,Qxb3,axb3+,Kb1,bxc2+', 'https://lichess.org/training/nr9jl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nR9nk', 'Rapid', 'Sharbafff', 1976, 'saghi3005', 2057, 'c4,Nf6,Nc3,g6,e4,d6,d4,Bg7,f3,O-O,Bg5,Nc6,Nge2,h6,Be3,Re8,Qd2,Kh7,g4,e5,d5,Nd4,Nxd4,exd4,Bxd4,Bxg4,fxg4', 'Nxe4,Nxe4,Rxe4+', 'https://lichess.org/training/nR9nk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nrAHr', 'Blitz', 'thorgsi', 1659, 'we11d0n9', 1731, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,g6,Ng5,d5,exd5,Nxd5,Nxf7,Nxc3,bxc3,Qf6,Nxh8,Be6,Bxe6,Qxe6,Qf3,Bg7,Nxg6,Qxg6,O-O,O-O-O,Qh3+,Kb8,d3,e4,Be3,Bxc3,Rab1,b6,dxe4,Qxe4,Bxb6,axb6,Qxc3,Nd4,Qe1,Nf3+,gxf3', 'Rg8+,Kh1,Qxf3#', 'https://lichess.org/training/nrAHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nrAT8', 'Classical', 'Hun48', 1944, 'TransgenderGambit', 2124, 'e4,h5,d4,a5,Nc3,d6,Be3,Bg4,f3,Be6,d5,Bc8,Nge2,g6,Bd4,Nf6,Bxf6,exf6,Nd4,Bh6,Bb5+,Kf8,Qd3,Kg7,O-O,c6,dxc6,bxc6,Bxc6', 'Nxc6,Nxc6,Qb6+', 'https://lichess.org/training/nrAT8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nraVl', 'Rapid', 'nizamhoca', 2044, 'SazwanNordin', 1970, 'd4,d5,e3,Bf5,c4,c6,Nc3,e6,Nf3,Bb4,Bd2,Nf6,a3,Bxc3,Bxc3,O-O,Nh4,Bg6,Nxg6,fxg6,Qb3,Qc7,Rc1,Ne4,Bb4,Rxf2,cxd5,exd5,Qxd5+,cxd5,Rxc7,Na6,Rxb7,Rxb2,Bd3,Nxb4,axb4,Rf8,Re7,Nc3,Rxa7,Re8,O-O,Rd2,Ba6,Ne4,Bb7,Nc3,Ra3,Rc2,Bc6', 'Ne2+,Kh1,Rxc6', 'https://lichess.org/training/nraVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nRc3Z', 'Rapid', 'J-Furena', 1821, 'Mayjin', 2048, 'Nf3,d5,d4,c6,g3,Nd7,Bg2,e6,O-O,f5,c4,Ngf6,Nc3,Bd6,cxd5,exd5,Bf4,Bxf4,gxf4,O-O,e3,Ne4,Nxe4,fxe4,Ne5,Nxe5,fxe5,Qh4,Qe2,Bh3,f4,exf3,Rxf3,Rxf3,Qxf3,Bxg2,Qxg2,Rf8,Rf1,Rxf1+,Kxf1,Qh5,Qe2,Qxe2+,Kxe2,Kf7,Kf3,Ke6,e4,b6,b4,g5,h3,h5,a4,a5,bxa5,bxa5,Ke3,c5,dxc5,Kxe5,c6,d4+,Kd3,Kd6,Kxd4,Kxc6,Ke5,g4', 'hxg4,h4,Kf4', 'https://lichess.org/training/nRc3Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NRDMU', 'Blitz', 'sumitskka', 2107, 'Husin24', 2119, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nd7,Bd3,Bxd3,Qxd3,Ngf6,Bf4,e6,O-O-O,Nd5,Bd2,Qc7,Ne4,O-O-O,Kb1,N7f6,g3,Nxe4,Qxe4,Bd6,c4,Nf6,Qe2,c5,Bc3,Kb8,Ne5,Ka8,f4,Rhf8,g4,Nd7,Rhf1,f6,Ng6,Rfe8,Qd3,cxd4,Bxd4,e5,fxe5,Nxe5,Qc2,Nxc4,Qa4,Nb6,Qa5,Be5,Rc1,Qd6,Bc5,Qd3+,Ka1,Bc7,a3,Rd5,b4,a6,Nf4,Qb5,Nxd5,Be5+,Ka2', 'Qe2+,Rc2,Qxc2#', 'https://lichess.org/training/NRDMU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NRFyn', 'Blitz', 'taoneto', 2402, 'GM Atomrod', 2459, 'e4,c6,Nc3,d5,Nf3,Bg4,h3,Bxf3,Qxf3,dxe4,Nxe4,Nd7,d4,Ndf6,c3,Nxe4,Qxe4,Nf6,Qf3,e6,g3,Qd5,Bg2,Be7,O-O,Qxf3,Bxf3,O-O,a4,a5,Rd1,Rfd8,Kf1,Nd5,h4,g6,Ke2,h5,Bd2,Kg7,c4,Nb4,Bxb4,Bxb4,Ke3,Rd7,Rd3,Rad8,Rad1,Be7,Be4,f5,Bg2,Bf6,b3,Rd6,f4,b6,d5,cxd5,cxd5,e5,fxe5,Bxe5,Kf2,Rc8,R1d2,Kf6,Bf3,Rc1,Rd1,Rc2+,R1d2,Rc7,Ke2,Rc5,Kf2,Rc8,Bd1,Rd7,Rc2,Rxc2+,Bxc2,Bd6,Kf3,Bc5,Rd1,Re7,Rd3,Bd6,Bd1,Re1,Kg2,Ke5,Bf3,Rb1,Re3+,Kd4,Re6,Rb2+,Kh3,Rxb3,Kg2,Kc5,Rxg6,Rb2+,Kh3,f4,g4,Rb3,Kg2,hxg4,Rxg4,Ra3,h5,Ra2+,Kh3,Bf8,Rg6,Rf2,Rc6+,Kd4,Kg4,Rh2,d6,Ke5,d7,Rd2,Rc8,Be7,Re8,Kf6,Kxf4,Rxd7,Rb8,Bc5,Be4', 'Bd6+,Ke3,Bxb8', 'https://lichess.org/training/NRFyn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NrIds', 'Blitz', 'WinterWood', 1735, 'QQ__UM', 1720, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,h6,Bf4,O-O,e3,d6,Bd3,Nbd7,O-O,Bxc3,bxc3,b6,Qc2,Bb7,Nd2,e5,dxe5,dxe5,Bg3,e4,Nxe4,Re8,Bh4,g5,Nxf6+,Nxf6,Bg3,Nh5,Qe2,Nxg3,fxg3,Be4,Qh5,Bxd3,Qxf7+,Kh8,Rf6,Re7', 'Rxh6+,Bh7,Rxh7#', 'https://lichess.org/training/NrIds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NrjaU', 'Rapid', 'Frangoxadrez', 1688, 'Cecinestpasunepipe2', 1734, 'd4,c5,Nf3,Nc6,dxc5,e5,Nc3,Bxc5,e3,f5,Bb5,e4,Bxc6,bxc6,Nd4,d5,Qh5+,g6,Qe2,Bxd4,exd4,a5,Be3,Nf6,h3,Ba6,Qd2,Qd6,O-O-O,Nd7,Bf4,Qe7,Kb1,Nb6,f3,h6,fxe4,Nc4,Qc1,g5,exd5,gxf4,Rhe1,Ne3,dxc6,O-O-O,Rd2,Qd6,d5,Rhe8,Na4,Re5,Rf2,Rxd5,Nb6+,Kc7,Nxd5+,Nxd5,Rd1,Qxc6,Rfd2,a4,b3,Nc3+,Kb2,Nxd1+,Qxd1,Rxd2,Qxd2,Qb6,Qxf4+,Kb7,Qxa4,Bf1,Qd7+,Ka6,Qxf5,Qd4+,Kb1,Bxg2', 'Qg6+,Ka7,Qxg2', 'https://lichess.org/training/NrjaU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nrjgQ', 'Classical', 'landy17', 1819, 'krever89', 1910, 'e4,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Nf3,f6,Nc3,Be6,Be3,c6,O-O-O+,Kc7,a3,a5,Na4,Nd7,Be2,Nh6,h3,Nf7,Rd2,Nd6,Rhd1,Nxe4,Rd3,Ndc5,Nxc5,Nxc5,Rc3,Ne4,Rcd3,Bd6,Nd4,Bc4,Nf5,Bxd3,Rxd3,g6,Ng7,Nc5', 'Bxc5,Bxc5,Ne6+,Kb6,Rb3+', 'https://lichess.org/training/nrjgQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NRjrW', 'Classical', 'yusufkale', 1791, 'chessmaster512', 1884, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Be3,e5,Nb3,Be6,Bd3,Nc6,Qe2,Be7,Bc4,O-O,O-O-O,Rc8,a3,Bxc4,Qxc4,Na5,Qb4,Nxb3+,Qxb3,Ng4,Rd3,Nxe3,Rxe3,Bg5,Qxb7,Bxe3+,fxe3,Qg5,Qxa6,Qxg2,Rd1,Qxh2,Qxd6,Qg3,Kb1,Qxe3', 'Nd5,Qg5,Ne7+,Kh8,Nxc8', 'https://lichess.org/training/NRjrW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nrKlt', 'Classical', 'lub55', 1966, 'TheLastStyleBender', 2146, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d3,d5,exd5,Nxd5,O-O,Bg4,h3,Bh5,a3,Nd4,Nbd2,b5,Ba2,Nf4,c3,Nde2+,Kh1,Bd6,Re1,Qf6,Rxe2,Qg6,Qf1,Qxd3,Re3,Qf5,Qxb5+,Kf8,g4,Bxg4,hxg4,Qxg4,Qf1,h5,Nh2,Qf5,Ndf3,Rh6,Nh4,Qg5,N2f3,Qg4,Qg1,Qh3+,Qh2,Qf1+,Ng1,e4,Nf5,Nd3,Qg2', 'Nxf2+,Qxf2,Qxf2,Re2,Qxf5', 'https://lichess.org/training/nrKlt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NRldf', 'Bullet', 'Almogalbert', 1978, 'PolonSky', 1957, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Nd5,Nxd5,exd5,Nb8,c4,Be7,Bd3,O-O,Qh5,f5,Bd2,g6,Qe2,a6,Nc3,Bf6,f4,Nd7,fxe5,Nxe5,O-O,Bd7,Bh6,Re8,Qd2,Ng4,Bf4,g5,Bxd6,Bd4+,Kh1,f4,c5,Qf6,Ne4,Qh6,h3,Ne3,Rf3,Bf5,Nf2,Bd7,Re1,Rac8,c6,bxc6,dxc6,Bxc6,Ba3,Bxf3,gxf3,Kg7,Kh2,Nd5,Ng4,Rxe1,Nxh6,Bg1+,Kg2,Ne3+,Qxe3,Bxe3,Nf5+,Kf6,Nxe3,Rxe3,Bxa6,Rxa3,bxa3,Rc2+,Kf1,Rxa2,Bb7,Rxa3,Be4,h5,Kg2,Ke5,h4,g4,Bg6,Rxf3,Bxh5,Rg3+,Kf2,Kd4,Bg6,Rh3,h5,Rh2+,Kg1,Rb2,Bf7,Ke3,h6,Rb5,h7,Rb8,Bg8,Kf3,h8=Q', 'Rb1+,Kh2,g3+,Kh3,Rh1#', 'https://lichess.org/training/NRldf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NrlxA', 'Blitz', 'Esheisst_Pferd', 2361, 'GM Grandelicious', 2672, 'e4,c6,d4,d5,f3,dxe4,fxe4,e5,Nf3,Bg4,Bc4,Nd7,c3,Bd6,O-O,Ngf6,Bg5,h6,Bh4,Qe7,Nbd2,O-O-O,a4,g5,Bg3,Nh5,a5,a6,Qb3,Nxg3,hxg3,exd4,Nxd4,Nc5,Qb6,Rhf8,e5,Qxe5,Nxc6,bxc6,Qxc6+,Bc7,Bxa6+,Nxa6,Qxa6+,Kd7,Nc4,Qc5+,Kh1,Be6,Nb6+,Ke7,Rae1,Rd6,Nc8+,Rxc8,Qxc8,g4,b4,Qh5+,Kg1,Rd7,Qa8,Bxg3,Rxe6+,Kxe6,Qe8+,Kd6,Qb8+,Ke7,Qxg3,Rd6,Re1+,Re6,Qc7+,Kf6,Qd8+,Kg7,Qd4+,Kh7,Rxe6,fxe6,Qe4+,Kg7,a6,g3,a7', 'Qd1+,Qe1,Qxe1#', 'https://lichess.org/training/NrlxA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nrM8q', 'Blitz', 'Mahsa1987', 1587, 'Reza-poorvajed', 1997, 'Nf3,Nc6,d4,d6,e3,e6,Bd3,f5,O-O,Nf6,c3,Be7,Bc2,O-O,Ng5,d5,Qf3,Ne4,Nxe4,fxe4,Qe2,Bg5,f3,exf3,Rxf3,Rxf3,Qxf3,e5,Qh5,e4,h4,Bh6,Nd2,Qf6,Nxe4,dxe4,Bxe4,Bd7,Bd5+,Be6,Bxe6+,Qxe6,e4,Bxc1,Rxc1,Qxe4,Rf1,Re8', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/nrM8q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NrmJk', 'Classical', 'Roaddog41', 1957, 'Simen_S', 1980, 'a3,e5,c4,d5,e3,c6,Qf3,Nf6,Qg3,Qd6,d4,e4,Nc3,Qxg3,hxg3,Be6,cxd5,cxd5,f3,Nc6,g4,h6,g5,Nd7,fxe4,Nb6,exd5,Nxd5,gxh6,gxh6,Nxd5,Bxd5,Bd2,O-O-O,Nh3,Bd6,Nf2,Bg3,Rh5,Be4,Rh3,Bxf2+,Kxf2,Rd6,Bc4,Rf6+,Kg1,Rg8,g3,h5,Rf1,Bf3,Be2,Bg4,Rxf6,Bxh3,Kh2,Be6,Bxh5', 'Rh8,g4,Bxg4', 'https://lichess.org/training/NrmJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NRmrL', 'Rapid', 'Batata_Presley', 1619, 'sonqokani', 1610, 'd4,d5,e3,Bf5,c4,e6,Nf3,c5,cxd5,exd5,Bd3,Bxd3,Qxd3,c4,Qe2,Nf6,Nc3,Bb4,Bd2,O-O,a3,Ba5,O-O,Nc6,Rab1,Bxc3,Bxc3,Ne4,Rfd1,f5,Nd2,Qf6,f3,Nxc3,bxc3,Rae8,Rxb7,f4,Nf1,fxe3,Re1,Qf4,Rd7,Rf6,Rxd5,Rh6,Ng3,Qf7,Nf5', 'Qxd5,Nxh6+,gxh6', 'https://lichess.org/training/NRmrL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nrNsy', 'Classical', 'Old_Number_7', 1708, 'AJTheChessKing', 1664, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nf6,d3,d6,O-O,Bg4,Bg5,h6,Bh4,g5,Bg3,Nd4,Nd5,c6,Ne3,Bxf3,gxf3,Qd7,c3,Nb5,Nf5,O-O-O,Bxb5,cxb5,d4,exd4,cxd4,Bb6,Nxd6+,Kb8,Nxf7+,Bc7,Bxc7+,Qxc7,Nxh8,Rxh8,Rc1,Qg7,Qd3,g4,f4,h5,Kh1,h4,Rg1,Nh5,h3,g3,f3,Nxf4,Qxb5', 'g2+,Rxg2,Qxg2#', 'https://lichess.org/training/nrNsy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NRNvy', 'Rapid', 'arabicleader', 1698, 'CaravanPilot', 1773, 'e4,b6,Nf3,Bb7,Nc3,e6,Bc4,c6,O-O,d5,exd5,cxd5,Bb3,Nf6,d4,Bd6,a3,O-O,Bg5,Be7,Re1,Nc6,Ne5,Rc8,Ba4,Nxe5,Rxe5,Nd7,Bxe7,Qxe7,Bxd7,Qxd7,Qe2,a6,Re1,b5,b4,Rxc3,f4,Rfc8,f5,Rxc2,fxe6,Rxe2', 'exd7,Rxe1+,Rxe1', 'https://lichess.org/training/NRNvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NroKD', 'Blitz', 'anarkat', 1713, 'shyammohan17', 1670, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qa5,Nf3,Bg4,e3,Ne4,Bd2,Nxd2,Qxd2,Bxf3,gxf3,Nd7,Bh3,O-O-O,a3,Kb8,b4,Qh5,Bg4,Qg6,Ke2,Ne5,Rhg1,e6,Rad1,Nc4,Qc1,Qf6,Ne4,Qe7,Bh3,Nd6,Nc5,g6,Qc2,Bg7,Bg2,e5,d5,g5,e4,h5,a4,g4,b5,gxf3+,Bxf3,Qh4,Rxg7,Qxh2,Rdg1,f5,Ne6,Rc8,R1g2,Qh4,Rxc7,fxe4,Rgg7,exf3+,Kd3,Qe4+,Kd2,Qxd5+,Ke1,Qxe6,a5,e4,a6,Rxc7', 'Qxc7+,Ka8,axb7+,Nxb7,Qxb7#', 'https://lichess.org/training/NroKD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nRpee', 'Rapid', 'AbbaQuinca', 1737, 'htainlin2020', 1779, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,a3,Qf6,f3,Bd4,c3,Be5,Bd3,Ne7,Be3,O-O,Nd2,Qh4+,Kf1,d5,Qe1,Bg3', 'Qxg3,Qxg3,hxg3', 'https://lichess.org/training/nRpee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nRQRH', 'Blitz', 'swaggles', 1834, 'EdZaandam', 1830, 'd4,Nf6,c4,e6,Nc3,c5,Nf3,cxd4,Nxd4,b6,Bg5,Be7,e3,Bb7,Qc2,O-O,h4,h6,O-O-O,a6,Kb1,Nc6,Bd3,Nxd4,exd4,Bxg2,Rh2,Bf3,Rg1,Bh5,Bxh6,g6,Bxf8,Bxf8,Rg5,b5,cxb5,axb5,Bxb5,d5,Rhg2,Bf3,R2g3,Be4,Nxe4,Nxe4,Bd3,Nxg3,Bxg6,fxg6', 'Qxg6+,Bg7,Qxg7#', 'https://lichess.org/training/nRQRH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nRQUb', 'Rapid', 'Pronoun', 1641, 'LelouchX', 1616, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d4,a6,Bxc6,Nxc6,O-O,d6,Bg5,f6,Be3,Be7,c3,O-O,Qb3+,Rf7,dxe5,dxe5,Rd1,Qe8,Na3,Bg4,Qxb7,Bxf3,gxf3,Bxa3,bxa3,Na5,Qd5,Nc6,Rab1,Kf8,Bc5+,Kg8,Rb7,Rd8,Qxd8', 'Nxd8,Rb8,Rd7', 'https://lichess.org/training/nRQUb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nRUhx', 'Rapid', 'Kyttyzow', 1785, 'sharif1395', 1676, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,e5,Nd5,Qxd5,Bxg5,Bc4,O-O,O-O,c6,Qe4,b5,Bd3,g6,f4,Bh6,f5,d5,exd6,Qxd6,fxg6,fxg6,Nc3,Bf5,Qh4,Bg7,Bxf5,Bxc3,bxc3,Qc5+,Kh1,Rxf5,Rxf5,Qxf5,Qd4,Rf8,h3,c5,Qd6,Rf6,Qb8+,Rf8,Qxa7,Qxc2,Qxc5,Qb2,Qd5+,Kg7,Qd4+,Kg8,Re1,Qf2,Re7,Qxd4,cxd4,Ra8,d5,Rxa2,d6,Rd2', 'd7,Rd1+,Kh2', 'https://lichess.org/training/nRUhx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NRUi9', 'Blitz', 'hkq', 1778, 'nazemshirazi1395', 1729, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,Nc3,axb5,Nxb5,Ba6,Nc3,g6,e4,Bxf1,Kxf1,Bg7,h4,d6,g4,Nbd7,h5,Rf8,hxg6,fxg6,g5,Ng8,Rxh7,Ne5,Rxg7,Qd7,Nge2', 'Qh3+,Ke1,Nf3#', 'https://lichess.org/training/NRUi9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NrVQD', 'Rapid', 'cwp21', 1724, 'Pirozo', 1667, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,g6,Nc3,Bg7,Be3,a6,Qd2,Nf6,O-O-O,O-O,Bh6,Re8,Bxg7,Kxg7,f3,c5,Nb3,Be6,Nd5,Nxd5,exd5,Bf5,g4,Bd7,Bd3,Qf6,h4,b6,h5,Qxf3,hxg6,fxg6,Qh6+,Kf7,Qxh7+,Kf6,Rhf1,Qxf1,Rxf1+,Ke5,Qg7+,Kxd5,Qxg6,Kc6,Bf5,Bxf5,Qxe8+,Bd7,Qe4+,d5,Qg6+,Kc7,Rf6,Nc6,Qh7,Re8,Kd2,Kd8,g5,Ne5,g6', 'Nc4+,Kd1,Bg4+,Rf3,Bxf3+,Kc1,Re1#', 'https://lichess.org/training/NrVQD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nrVw8', 'Blitz', 'pippionuppio', 1617, 'shree_raje', 1667, 'd4,d6,Bf4,Bf5,e3,e6,Bd3,a6,Bxf5,exf5,Qd3,g6,Nd2,Bg7,Ngf3,Ne7,Qb3,O-O,O-O,Nd7,Rab1,b5,e4,Nb6,exf5,Nxf5,Bg5,Qd7,c4,bxc4,Nxc4,Nxc4,Qxc4,d5,Qd3,Rab8,Bf4,Rb4,a3,Rb5,Be5,Bxe5,Nxe5,Qe6,Rfe1,Re8,Nf3,Qd7,Ng5,Rxe1+,Rxe1,Rxb2,Qxa6,Nxd4,Qf6,Re2,Rb1,Qe8,g3,Re1+', 'Rxe1,Qxe1+,Kg2,Qe8,Qxd4', 'https://lichess.org/training/nrVw8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NRY6M', 'Rapid', 'Jonathan1981', 1737, 'bbb3000', 1751, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,Qb6,dxc5,Bxc5,O-O,Nge7,Nbd2,Nf5,Nb3,Be7,Bd3,O-O,Bxf5,exf5,Be3,Qc7,Qd3,Nxe5,Qxd5,Nc4,Nbd4,Nxe3,fxe3,g6,e4,fxe4,Qxe4,Rfe8,Qe3,Bf8,Qg5,Bg7,Qh4,h5,Ng5,Rf8,Rf2,Rae8,Raf1,Re7,Nh7,Rfe8,Nf6+,Bxf6,Rxf6,Rf8,Rxg6+', 'fxg6,Qxe7,Rxf1+,Kxf1,Bb5+', 'https://lichess.org/training/NRY6M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nRZBF', 'Classical', 'Carlsen-vom-Dach', 1849, 'tristan20', 1884, 'e4,e6,d4,d5,Nc3,Bb4,exd5,Qxd5,Nf3,Nf6,Bd3,O-O,O-O,Bxc3,bxc3,b6,Ba3,Re8,Re1,Bb7,c4,Qh5,Re5,Bxf3,gxf3,Qh4,Be4,Nxe4,Rxe4,Qh5,d5,e5,f4', 'Qg6+,Kf1,Qxe4', 'https://lichess.org/training/nRZBF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nRzFY', 'Rapid', 'mc-s', 1655, 'malcolmtucker', 1677, 'Nf3,d5,d4,Nf6,Nbd2,Bg4,h3,Bh5,e3,e6,Be2,Bd6,O-O,O-O,a3,c5,dxc5,Bxc5,b4,Bb6,Bb2,Nc6,Rc1,Rc8,c4,Ne4,c5,Bc7,Re1,Qd7,Nb3,b6,cxb6,Bxb6,Nbd4,Ne7,Bb5,Qd6,Rxc8,Rxc8,Be2,Ng6,Nb5,Qd7,Ne5,Nxe5,Bxe5,Bxe2,Qxe2,f6,Bb2,Rc4,Nd4,e5,Nb3,Nc3,Bxc3,Rxc3,Qb2,d4,Rd1,Qc6,exd4,Bxd4,Nxd4,exd4,Rxd4,Qc7,g3,Rc1+,Kg2', 'Qc6+,f3,Rc2+,Qxc2,Qxc2+', 'https://lichess.org/training/nRzFY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nS2oy', 'Classical', 'FaiazBoss', 1626, 'fofolido7', 1641, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,Ne4,Qd3,d5,O-O,dxc4,Qxe4,Bc5,Rd1,d3,cxd3,c3,Nxc3,Nd4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/nS2oy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NS3pl', 'Rapid', 'lewis3', 1691, 'Novitscky', 1715, 'd4,e6,c4,Nf6,Nc3,Bb4,Bg5,h6,Bf4,Nc6,Nf3,d5,Ne5,Ne4,a3', 'Nxc3,bxc3,Bxc3+', 'https://lichess.org/training/NS3pl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ns4Eo', 'Rapid', 'mehamhm', 1702, 'duzhan72-temir', 1840, 'c4,e5,Nc3,Nc6,Nf3,Bc5,e3,Qf6,Bd3,Nge7,Ne4,Qg6,O-O,Bb6,a3,a6,b4,d6,Qc2,Bh3,Ng3,e4,Bxe4,Qh6,gxh3,Qxh3,Ng5,Qg4,Nf3,f5,Bxc6+,bxc6,Ne1,h5,f3,Qg5,Kf2,Qh4,Rh1,f4,Kg1,fxg3,hxg3,Qxg3+,Ng2,Qxf3,Bb2,O-O-O,Rf1,Qg3,Qd1,h4,Rf3,Qg5,Qf1,d5,c5,Ba7,Rhh3,a5,Qa6+,Kb8,bxa5,Qg6,Qe2', 'Qb1+,Rf1,Qxb2', 'https://lichess.org/training/Ns4Eo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ns4pz', 'Blitz', 'annedark', 1812, 'argentinavino', 1640, 'd4,b5,Bf4,c6,e3,Na6,a3,Nf6,Nf3,Nd5,Bg3,g6,c3,Bb7,Be2,Bg7,O-O,f5,Nbd2,h5,h3,e6,e4,fxe4,Nxe4,h4,Be5,Bxe5,Nxe5,O-O,Nd6,Rb8,Nxg6,Rf6,Bh5,Nf4,Nxf4,Rxf4,Bf7+,Kf8,Qh5,Qf6,Rae1,Nc7,Bg6,Nd5,Ne4,Qg7,Qh7,Qxh7,Bxh7,Ke7,Nc5,d6,Nxe6,Kf7,Nxf4,Nxf4,Bf5,c5,dxc5,Bxg2,Bg4,Rg8,cxd6,Bxh3,f3,Bxf1,Kxf1,h3,d7', 'h2,Kf2,Nd3+,Kg2,Nxe1+', 'https://lichess.org/training/Ns4pz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nS9Tl', 'Blitz', 'LuckerKing', 1912, 'Konst_331', 1958, 'd4,Nf6,Bf4,g6,Nc3,d5,Qd2,Bg7,O-O-O,O-O,h4,h5,f3,c6,e4,b5,e5,Nh7,Be2,b4,Na4,Qa5,b3,Nd7,g4,Nb6,gxh5,gxh5,Bh6,Nxa4,bxa4,Qxa4,Kb1,Bxh6', 'Qxh6,Bf5,Bd3,Bxd3,Rxd3', 'https://lichess.org/training/nS9Tl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nsAHg', 'Rapid', 'youarenoobeasygame', 1629, 'David1337_1', 1710, 'e4,c5,Nf3,d6,d4,cxd4,Bc4,Nf6,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,g6,e5,dxe5,Qxe5,Bg7,Qg5,O-O,O-O,Bxf3,gxf3,h6,Qh4,Nh5,Ne4,Qd4,c3,Qc4', 'Nf6+,Nxf6,Qxc4', 'https://lichess.org/training/nsAHg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NsAV2', 'Rapid', 'IzaskunOviedo', 1756, 'Koob000', 1766, 'd4,Nf6,Nf3,g6,Bg5,Bg7,e3,O-O,Bd3,c5,c3,cxd4,cxd4,d6,O-O,Bg4,h3,Be6,Nbd2,Nc6,a3,a6,Ne4,Nxe4,Bxe4,d5,Bd3,Rc8,Rc1,Qd7,Bf4,b5,Ng5,Bf5,Bxf5,Qxf5,Nf3,Na5,Qe2,Nc4,Nh4,Qe6,Nf3,h6,Ra1,g5,Bg3,f5,Rfe1,g4,hxg4,fxg4,Nh4,h5,Rab1,Nd6,Bxd6,Qd7,Qd3,Qxd6,Rbc1,g3,fxg3,Qxg3,Nf5,Rxc1,Rxc1', 'Rxf5,Qxf5,Qxe3+,Kh2,Qxc1', 'https://lichess.org/training/NsAV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSBLc', 'Rapid', 'Bobbyfishmino', 1970, 'silas273', 2065, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,d3,Nd6,Bb3,Be7,O-O,O-O,Nxe5,Nc6,Bf4,Bg5,Nxc6,dxc6,Bxg5,Qxg5,Nc3,Bh3,Qf3,Qg4', 'Qxh3,Qxh3,gxh3', 'https://lichess.org/training/NSBLc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSbta', 'Rapid', 'AayushShriyan', 1686, 'TheMailMan', 1850, 'c4,Nf6,Nc3,c6,d4,d5,cxd5,cxd5,g3,e6,Bg2,Be7,e3,O-O,Nf3,a6,a3,b5,b4,Nbd7,Bb2,Bb7,O-O,Rc8,Rc1,Nb6,Nd2,Qd7,Na2,Nc4,Nxc4,dxc4,Nc3,Bxg2,Kxg2,h6,Kg1,Nd5,Qf3,Nxc3,Bxc3,Qc6,Qe2,Qe4,Bb2,Bg5,Rc3,Rfd8,h4,Bf6,f3,Qg6,Qh2,Rd5,g4,Rcd8,h5,Qh7,Rcc1,Qd3,Qf2,Qh7,Ba1,Qd3,Bb2,Qb3,Rb1,Rc8,Ba1,Qxa3,Kh1,Qd3,Rfd1,Qh7,Rbc1,Be7,Bc3,g6,hxg6,fxg6,f4,h5,g5,Qf7,Qh4,Qf5,Qf2,Bxg5,Rg1,Bf6,Qg3,Kf7,Rcf1,Rg8,Qh2,Qd3,Qb2,Qxe3,Qg2,Rf5,Bd2,Qxd4,Qb7+,Be7,Qxa6,Qxd2,Qa1,Rd8,Qe1,Qd5+,Kh2,Qd3,Qg3,Qd2+,Kh1,Qd4', 'Qxg6+,Kf8,Qg8#', 'https://lichess.org/training/NSbta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nse36', 'Bullet', 'Elikola', 1794, 'NM oberschlumpf', 2029, 'e4,c5,Nc3,a6,Nf3,b5,d4,cxd4,Nxd4,Bb7,Bg5,h6,Bh4,Nc6,Nf5,g6', 'Nd6+,exd6,Bxd8', 'https://lichess.org/training/Nse36');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nsELJ', 'Rapid', 'Amarjeet_Yadav2005', 1830, 'RASUL-ALI-ZADE', 1828, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,d4,Nc6,Nf3,Bg4,c3,Bxf3,gxf3,e5,Be3,exd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Qxd4,Qe2+,Qe5,O-O-O,Qxe2,Bxe2,O-O,Bb5,Rfd8,Rde1,Rd5,Ba4,Rc5+,Kb1,Rd8,Rhg1,g6,Bb3,Nd4,Rd1,Rb5,Rd3,c5,Rgd1,Re8,Ba4,Re2,Bxb5,Nxb5,R3d2,Re6,h4,Rf6,Rd3,Nd4,b4,b6,bxc5,bxc5,Rg1', 'Rb6+,Kc1,Ne2+,Kc2,Nxg1', 'https://lichess.org/training/nsELJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nsgCa', 'Rapid', 'tomas16055', 2052, 'Majidjun', 2056, 'd4,Nf6,c4,b5,e3,bxc4,Bxc4,d5,Bd3,Bb7,Nf3,Nbd7,Nc3,c6,O-O,e6,Qc2,Qc7,e4,a6,e5,Ng8,Bxh7,Ne7,Ng5,Nf5,Bxf5,exf5,Qxf5,O-O-O,Nxf7,Bb4,Nxd8,Qxd8,Bg5,Qe8,e6,Nb6,Qe5,Nc4,Qf5,Bd6,Rfe1,Bxh2+,Kf1,g6,Qg4,Bd6,e7+,Kb8,Bf4,Rh1+,Ke2,Qxe7+,Kd3', 'Rxe1,Rxe1,Qxe1', 'https://lichess.org/training/nsgCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nSGdA', 'Blitz', 'CM KingRAZOR', 2234, 'TheHumanMachine', 2321, 'e4,c5,Nf3,Nc6,b4,Nxb4,d4,cxd4,Bc4,e6,O-O,Nc6,Nxd4,Nf6,Nxc6,dxc6,Qxd8+,Kxd8,Bg5,Be7,Rd1+,Nd7,Be3,Kc7,Nd2,Bf6,Rab1,Nb6,Be2,e5,f4,Be6,Nf3,Bc4', 'Bxb6+,axb6,Bxc4', 'https://lichess.org/training/nSGdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nSH1A', 'Blitz', 'Testgreaam', 2235, 'FM lopatka1234', 2304, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Qe7,O-O,g6,e5,Nd5,a3,Bg7,Re1,O-O,c4,Nb6,Nc3,c5,Be4,Rb8,Nd5,Nxd5,Bxd5,Bb7,Qf3,Bxd5,Qxd5,c6,Qd3,d6,Bf4,dxe5,Qe4,Rxb2,Qxc6,Qh4,Bg3,Qxc4,Rac1,Qb5,Qxc5,Qxc5,Rxc5,f6,Ra5,Rb6,Rxa7,h5,h4,Rf7,Ra8+,Kh7,Rc1,f5,f3,e4,fxe4,fxe4,Bf2,Rb2,Bc5,Re2,Rf1,Rc7,Ra5', 'Rxc5,Rxc5,Bd4+,Kh2,Bxc5', 'https://lichess.org/training/nSH1A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSJjt', 'Blitz', 'Shakk17', 1752, 'Awelar', 1765, 'd4,Nf6,c4,e6,Nf3,d5,cxd5,exd5,Bg5,Be7,e3,O-O,Bd3,Nbd7,Nc3,c5,O-O,b6,Re1,Bb7,Qc2,Ne4,Bxe4,dxe4,Nxe4', 'Bxe4,Qxe4,Bxg5,Qxa8,Qxa8', 'https://lichess.org/training/NSJjt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSKkZ', 'Rapid', 'berci10', 1878, 'jupol143', 1847, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,c6,h3,Nf6,d3,b5,Bb3,a5,a3,Na6,O-O,Nc5,Ba2,Bb7,Be3,Ne6,Nd2,d5,exd5,Nxd5,Nxd5,cxd5,Nf3,Bd6,d4,e4,Nd2,O-O,c3,f5,f3,Qh4,fxe4,fxe4,Qg4,Qxg4,hxg4,Rxf1+,Rxf1,Rf8,Nxe4', 'Bh2+,Kxh2,Rxf1', 'https://lichess.org/training/NSKkZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nsL7b', 'Rapid', 'Flo2010', 1782, 'Dhrub_Prasad_278', 2039, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kxf2,Nxe4+,Ke3,Qh4,Qf3,d5,Bxd5,Nc5,Nxh8,Qh6+,Kf2,Qh4+,g3,Qd4+,Kg2,Bf5,d3,O-O-O,Nf7,Qxd5,Qxd5,Rxd5,Nc3,Rd7,Ng5,h6,Nf3,e4,dxe4,Nxe4,Nxe4,Bxe4,Bf4,g5,Be3,g4,Bxh6,Bxf3+,Kf2,Bxh1,Rxh1,Nb4,Re1,b6,c3,Nc6,Re8+,Kb7,Re4,Rd6,Bf8,Rd2+,Kg1,Rxb2,Rxg4,Rxa2,h4,Ne5,Re4', 'Nf3+,Kf1,Nd2+,Ke2,Nxe4+', 'https://lichess.org/training/nsL7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSl7i', 'Classical', 'konst767', 1866, 'victorlazlo', 1903, 'e4,Nc6,Nf3,e5,Bb5,d6,d4,a6,Bxc6+,bxc6,dxe5,Bg4,exd6,Bxd6,h3,Bxf3,Qxf3,Nf6,O-O,O-O,Bf4,Re8,Nc3,Qb8,Rab1,Qb4,Rfe1,Bxf4,Qxf4,Qb6,Re3,Rad8,Rg3', 'Nh5,Qg5,Nxg3', 'https://lichess.org/training/NSl7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSLQ0', 'Rapid', 'jsemenak', 1661, 'omran222', 1749, 'e4,d6,Nf3,Nf6,Nc3,e5,Bc4,h6,h3,g6,d4,Bg7,dxe5,dxe5,Qxd8+,Kxd8,Nxe5,Ke7,Nxf7,Rf8,Nxh6,Nc6,Ng4,Nb4,O-O,Nxc2,Rb1,Nxg4,hxg4,Bxg4,Nd5+,Kd6,Bf4+,Be5,Bxe5+,Kxe5,Rbc1,Nd4,Nxc7,Rac8,Bd3,b6,f4+,Rxf4,Rxf4,Kxf4,Ne6+', 'Bxe6,Rxc8,Bxc8', 'https://lichess.org/training/NSLQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSMa4', 'Rapid', 'BartekPlokarz', 1849, 'Lobo_42', 1831, 'd4,d5,c4,e6,g3,c5,cxd5,exd5,Bg2,Nf6,Bg5,Be6,Nf3,Be7,dxc5,Bxc5,Nc3,Qb6,Bxf6,Bxf2+,Kf1,gxf6,Qd3,d4,Na4,Qb4,b3,Nd7,Kxf2,b5,Nb2,Rd8,Qd2,Qc5,Rac1,Qb6,Nd3,Ne5,Nfxe5,fxe5,Nxe5,d3+,Ke1,dxe2,Qxe2,O-O,Rf1', 'Qa5+,Kf2,Rd2', 'https://lichess.org/training/NSMa4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nsN8V', 'Blitz', 'mhmdabwalmjd51', 1815, 'gborges0727', 1811, 'e3,c5,b3,d5,Bb2,Nc6,Nc3,e5,Qe2,Nf6,f3,d4,exd4,cxd4,Ne4,Bf5,g4,Bg6,h4,Nxe4,fxe4,h6,h5,Bh7,O-O-O,Qc7,Nf3,Nb4,c3,dxc3,dxc3,Nxa2+,Kb1,Nxc3+,Bxc3,Qxc3,Qb5+,Ke7,Qd7+,Kf6,g5+,hxg5', 'Rd6+,Bxd6,Qxd6#', 'https://lichess.org/training/nsN8V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSoNl', 'Bullet', 'WFM PershinaElena', 1960, 'signorcuoco', 1934, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,h3,O-O,b3,Bf5,O-O,c6,c3,f6,Ba3,Bxa3,Nxa3,Qd7,Nc2,Bxd3,Qxd3,Na6,Rfe1,Rfe8,Re2,Nf5,Rae1,Nc7,g4,Nd6,Ne3,Ne4,c4,dxc4,bxc4,Ne6,Qxe4,Ng5,Qf4', 'Nxh3+,Kf1,Nxf4', 'https://lichess.org/training/NSoNl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NsorW', 'Rapid', 'Petrov_2004_Volod', 1845, 'Imbecil_Jr_Jr', 1630, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,Nd7,d4,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Bg5,c5,d5,exd5,Bxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/NsorW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSpDW', 'Rapid', 'sansebastian9111', 1854, 'eleazarsito900', 1772, 'e4,c5,Nf3,e6,c4,d5,e5,d4,d3,Ne7,g3,Ng6,Bg2,Nc6,Qe2,Qc7,Bf4,Nxf4,gxf4,Be7,Na3,a6,Nc2,Rb8,O-O,h6,Nd2,g5,fxg5,Qxe5', 'Bxc6+,bxc6,Qxe5', 'https://lichess.org/training/NSpDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSQcX', 'Classical', 'The2ofhearts', 1661, 'Ilgson', 1624, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg5,Be7,O-O-O+,Bd7,Bxf6,Bxf6,Rd5,c6,Ra5,b6,Ra3,Be7,Rb3,Be6,Nf3,Bxb3,axb3,Nd7,Bc4,f6,Be6,Bb4', 'Rd1,Ke7,Bxd7', 'https://lichess.org/training/NSQcX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSRo5', 'Blitz', 'Jfenco7', 2080, 'PitM_gr', 2048, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bb5,Qb6,Bxc6,Bxc6,O-O,Rc8,Re1,a6,Nbd2,cxd4,cxd4,Ne7,Nf1,Nf5,Be3,Bb4,N1d2,O-O,a3,Nxe3,fxe3,Bxd2,Qxd2,Ba4,Qf2,Rc2,Re2,Rfc8,Rf1,Qxb2,Ng5,Be8,Nxf7,Bb5,Nd6,Rxe2', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/NSRo5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSrOk', 'Rapid', 'DrMaboule44', 1673, 'TbirdV', 1634, 'e4,e6,Nf3,d5,d3,Nf6,exd5,exd5,Bg5,Be7,Be2,O-O,O-O,c5,Nbd2,Nc6,c4,dxc4,dxc4,Bg4,h3,Bxf3,Bxf3,Ne5,Bxb7,Rb8,Bd5', 'Nxd5,cxd5,Bxg5', 'https://lichess.org/training/NSrOk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NsrXJ', 'Classical', 'Alex_2990', 1885, 'BenFinegold129', 1871, 'e4,c6,Nc3,d5,Nf3,Bg4,h3,Bxf3,Qxf3,e6,d4,Nf6,exd5,Nxd5,Nxd5,cxd5,Bf4,Nc6,Bb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/NsrXJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NsuDT', 'Rapid', 'yaq1', 1909, 'NikitaChess2004', 1963, 'd4,d5,Nf3,e6,c4,Nf6,Nc3,c5,Bg5,Nbd7,cxd5,exd5,dxc5,Bxc5,Nxd5,Qa5+,Nc3,Bb4,Qc2,b6,e3,Bb7,Bxf6,Nxf6,Be2,Rc8,O-O,Bxc3,bxc3,Rxc3,Qb2,O-O,Rac1,Rfc8,Rxc3,Qxc3,Qxc3,Rxc3,Rd1,h6,Ne5,Rc2', 'Rd8+,Kh7,Bd3+,Be4,Bxc2', 'https://lichess.org/training/NsuDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NsUOA', 'Classical', 'bhavyak', 1721, 'pyramix', 1818, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,c3,dxc3,Nxc3,Bb4,O-O,d6,Qb3,Be6,Bxe6,fxe6,Qxe6+,Nge7,a3,Bxc3,bxc3,Qd7,Nd4,Nxd4,Qxd7+,Kxd7,cxd4,Rae8,Be3,Nc6,f3,g5,g4,Na5,a4,Nc4,Bc1,Rhf8,Rb1,b6,Rb4,Na5,d5,Nb7,Be3,a5,Rb5,Nc5,Bxc5,dxc5,Kg2,Rf6,Kg3', 'Rxe4,fxe4,Rxf1', 'https://lichess.org/training/NsUOA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSv0l', 'Rapid', 'SouthAfricanElephant', 1814, 'Londres64', 1776, 'e4,c5,Nf3,Nc6,Nc3,a6,d4,cxd4,Nxd4,Qb6,Nxc6,dxc6,Na4,Qb4+,c3,Qxe4+,Be3,Bg4,Nc5,Qe5,Qxg4,Nf6,Qd1,Rd8,Qb3,Nd5,Bc4,Nxe3', 'Bxf7#', 'https://lichess.org/training/NSv0l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NsVG5', 'Rapid', 'matin1386', 1805, 'RussianChessFun', 1811, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Bf5,Bc4,Nc6,Ne2,O-O-O,Bd2,Bg6,Nd5,Qa4,b3,Qa3,b4,Rxd5,Bxd5,Nxb4,Bxb4,Qxb4+,c3,Qb5,Qb3,Qxb3,axb3,a6,O-O,e6,Bf3,Bd6,b4,Ne7,b5,Bd3,bxa6,Bxa6,Rfb1,Kd7,Bxb7,Bxe2,Ba6,Bh5,Bb5+,Nc6,Ra6,Bg6,Bxc6+,Ke7,Rb7,Rd8,g3,Kf6,f4,Bd3,Ra5,Bc4,Kf2,h6,h4,g5,hxg5+,hxg5,fxg5+,Kg6,g4,Rh8,Be4+,Kg7,Ra1,Rh2+,Kg1,Re2,Bc6,Rc2,Bb5', 'Bh2+,Kh1,Bd5#', 'https://lichess.org/training/NsVG5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nsvzE', 'Blitz', 'JuicerCarlsen', 1573, 'bor0dat', 1585, 'd4,b6,c4,Bb7,Nc3,g6,Nf3,Bg7,e4,e6,d5,Bxc3+,bxc3,exd5,exd5,Nf6,Ba3,Ne4,Qd3,f5,Be2,Qf6,O-O,Nxc3,Bb2,Nxe2+,Qxe2+,Qe7,Bf6,Qxe2,Rae1,Qxe1,Rxe1+,Kf7,Bxh8,Na6,Bd4,Nc5,Ne5+,Kg8,Bxc5,bxc5,Nd3,d6,a4,Ba6,a5,Bxc4,Nf4,Kg7,Rc1,Ba6,Ne6+,Kh6,Nxc7,Rb8,Nxa6,Rb5,g3,Rxa5,Nb8,a6,Nc6,Ra2,Kg2,a5,Rc4,a4,Na7,a3,Nc8,Rb2,Ra4,a2,Nxd6,Kg5,Nc4,Rc2,d6,f4,d7,Kg4,d8=Q', 'f3+,Kf1,Rc1+,Qd1,Rxd1#', 'https://lichess.org/training/nsvzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSxQ5', 'Classical', 'DmitriyD', 1752, 'fischer9988', 1894, 'e4,f5,e5,d6,f4,Nc6,Nf3,dxe5,fxe5,Nh6,d4,e6,Bb5,Bd7,O-O,a6,Bc4,Qe7,c3,O-O-O,b4,Na7,a4,Kb8,b5,a5,Be2,Nf7,c4,g5,c5,g4,Ne1,b6,Be3,Nc8,Na3,Bg7,Qd2,Qh4,Nc4,Bh6,Bxh6,Qxh6,Qc3,g3,h3,Rhg8,Nxa5,Ng5,c6', 'Nxh3+,gxh3,Qxh3', 'https://lichess.org/training/NSxQ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NSXtw', 'Rapid', 'Emil_Daimon', 1717, 'professionel1', 1717, 'e4,e6,d4,d5,exd5,exd5,c4,Bb4+,Bd2,Bxd2+,Nxd2,Nf6,cxd5,Qxd5,Ngf3,O-O,Bc4,Re8+,Kf1,Qd6,Ng5,Be6,Qb3,Bxc4+,Qxc4,Qd7,g3,b5,Qb3,Nc6,Qxb5,Rab8,Qd3,Ne5,Qc3,Qb5+,Kg2,Nfg4,dxe5,Nxe5,b3,Rbd8,Ndf3,Nd3,Qxc7,Rd7,Qc4,Qf5,h4,h6,Nh3,Rd6,Rhd1,Red8,Nf4', 'Nxf4+,Qxf4,Qxf4,gxf4,Rxd1,Rxd1,Rxd1', 'https://lichess.org/training/NSXtw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nSYSR', 'Rapid', 'Deep42', 2409, 'Eli_Harmon', 2474, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,c3,Bg4,Qb3,Qd7,Ne5,Nxe5,dxe5,a6,Be3,e6,Bd3,Rc8,O-O,Ne7,Nd2,Bf5,Be2,Nc6,Nf3,Be7,Nd4,Bg6,Nxc6,Qxc6,Rad1,O-O,Qb6,Qxb6,Bxb6,Rc6,Bd4,Rfc8,Bd3,Bxd3,Rxd3,b5,a3,h5,f4,g6,Kf2,a5,Ke3,b4,axb4,axb4,Ra1,Rb8,Ra5,Kg7,g3,Rc4,h3,bxc3,Rxc3,Rcb4,Rd3,Bd8,Ra6,R8b7,Rda3,Bb6,Rxb6,R4xb6,Bxb6,Rxb6,b3,Rb4,h4,Kf8,Kd3,Ke8,Ra8+,Kd7,Ra7+,Kc6,Kc3,Rb7,Ra8,Kb5,Rc8,Ka5,b4+,Kb5,Kb3,Rd7,Rb8+,Kc6,Kc3,Rb7,Rc8+,Rc7,Rb8,Ra7,Kb3,Rb7,Rc8+,Kb6,Rd8,Rc7,Rb8+,Kc6,b5+,Kc5,b6,Rc6,b7,Rb6+,Ka4,Kd4', 'Ka5,Rb2,Ka6', 'https://lichess.org/training/nSYSR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nT0Pg', 'Rapid', 'INVOR', 2028, 'white_slonik', 2107, 'e4,e5,Nf3,Nf6,d4,Nxe4,Bd3,Nc6,d5,Nc5,dxc6,e4,cxd7+,Bxd7,Bc4,exf3,Qxf3,Qe7+,Be3,Be6,Bxe6,Qxe6,Nc3,O-O-O,O-O,Bd6,Rfe1,Rhe8,Re2,f6', 'Bxc5,Qxe2,Nxe2', 'https://lichess.org/training/nT0Pg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nt4a1', 'Classical', 'nadgob', 1851, 'plysatko', 1687, 'c4,e5,e4,c6,Nf3,d6,Nc3,Nf6,d4,d5,dxe5,Nxe4,Nxe4,dxe4,Qxd8+,Kxd8,Ng5,Be6,Nxe4,Nd7,Bf4,f6,exf6,Bb4+,Bd2,Bxd2+,Nxd2,gxf6,Bd3,Nb6,O-O,Kc7,c5,Nd5,Rfe1,Bd7,a3,f5,h3,Rag8,Re5,Nf4,Bxf5,Rxg2+,Kf1,Rhg8,Nf3,Bxf5,Rxf5,Nxh3,Re1', 'Rxf2#', 'https://lichess.org/training/Nt4a1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nt4dk', 'Rapid', 'Gudmur', 1957, 'pnsak', 1962, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Nxf3,Bg4,Bc4,Nc6,h3,Bxf3,Qxf3,Qxd4,Bb5,Qd6,Bf4,Qe6+,Be3,O-O-O,O-O,Ne5,Qf4,Nd5,Nxd5,Qxd5,Qa4,a6,Be2,Qd7,Qe4,f6,Rfd1,Qc6,Rxd8+,Kxd8,Qd4+,Kc8,Qa7,b5,Bd4,Qb7,Qc5,e6,Qc3,Bd6,a4,b4,Qe3,a5,c3,Re8,Bb5,c6,Be2,Ng6,cxb4,Qxb4,Rc1,Kd7,Bf3,Rc8,Bc5,Bxc5,Rxc5,Qxb2,Rxa5,Ne5,Ra7+,Ke8,Qc5,Nd7,Bxc6,Rxc6,Qxc6', 'Qd4+,Kh1,Qxa7', 'https://lichess.org/training/Nt4dk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nt5AI', 'Rapid', 'aleoenoch', 2045, 'shreyas_seshadri', 2040, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,d5,Bd2,c5,cxd5,exd5,a3,Bxc3,Bxc3,cxd4,Bxd4,Nc6,Bb5,O-O,Nf3', 'Qa5+,Bc3,Qxb5', 'https://lichess.org/training/Nt5AI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nt74g', 'Blitz', 'CaptainBishop', 1855, 'DarkMagicianofA', 1758, 'd4,Nf6,e3,d5,Bd3,e6,f4,c5,c3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Nxd2,Nc6,Ngf3,Nb4,Qa4+,Nc6,O-O,Bd7,a3,Ne5,Qc2,Nxd3,Qxd3,O-O,Ne5,Ba4,b3,Be8,g4,Rc8,g5,Nd7,Ndf3,Nxe5,Nxe5,Kh8,Rf3,a6,Rh3,g6,Rf1,Bb5,Nc4,dxc4,bxc4,Bxc4,Qd1,Bxf1,Qxf1,Qd5,Qf2,Rg8', 'Rxh7+,Kxh7,Qh4+,Kg7,Qh6#', 'https://lichess.org/training/Nt74g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nt8js', 'Rapid', 'stojanlicanin', 1639, 'Ioann_G', 1628, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Bd6,d4,exd4,Qxd4,f6,O-O,Bg4,e5,Bxf3,exd6,Bd5,Nxd5,cxd5,Qxd5,Qxd6,Re1+,Ne7,Qxb7,O-O,g3,Nc6,Bf4,Ne5,Rad1,Rab8,Qd5+', 'Qxd5,Rxd5,Nf3+,Kf1,Nxe1', 'https://lichess.org/training/Nt8js');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nt9G4', 'Classical', 'gomer1377', 1882, 'huilcomeli', 1750, 'e4,e5,Bc4,Nc6,Nf3,Be7,Nc3,Nf6,d3,d6,Ng5,O-O,a3,Na5,Ba2,c5,O-O,Nc6,f4,h6,fxe5,dxe5,Nf3,a6,h3,b5,Ne2,Nd4,Nxe5', 'Nxe2+,Qxe2,Qd4+,Kh1,Qxe5', 'https://lichess.org/training/nt9G4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTbYD', 'Bullet', 'GM Oleksiyenko', 2421, 'b-pawn', 2071, 'e4,b6,d4,Bb7,d5,e6,c4,Nf6,Bd3,Bb4+,Bd2,a5,Nf3,Bxd2+,Qxd2,d6,O-O,Na6,Nc3,e5,a3,Nc5,Bc2,a4,Ne1,Qe7,Qd1,O-O,f3,Nh5,Nxa4,Qg5,Nxc5,bxc5,Qc1,Nf4,Kh1,Qh5,g3', 'Ne2,Qd2,Nxg3+,Kg1,Nxf1', 'https://lichess.org/training/nTbYD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTdFE', 'Classical', 'sebdon', 1802, 'lo_Oll-_-l', 1848, 'e4,c5,Nf3,d6,Nc3,Nf6,e5,dxe5,Nxe5,e6,Be2,Bd6,Ng4,O-O,d3,h6,Ne4,Nxe4,dxe4,Nc6,O-O,Nd4,e5,Nxe2+,Qxe2,Bc7,Qf3,Qd5,Qg3,Kh7,Bf4,Qc4,Qh4,Qxf4', 'Nf6+,Qxf6,exf6', 'https://lichess.org/training/NTdFE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTdul', 'Blitz', 'Leoprucco00', 1894, 'Sergey_Lazarev', 1913, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,Re1,d5,d3,Nc5,Bxc6+,bxc6,Nxe5,Ne6,Nxc6,Qd6,Nd4,c5,Nxe6,Bxe6,Nc3,Be7,Qf3,O-O,Bf4,Qd7,Re2,Bg4,Rxe7,Qxe7,Qxg4,Rfe8,Kf1,d4,Nd5,Qb7,Nc7,Qxb2,Rd1,f5,Qxf5,Qxc2,Rc1', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/NTdul');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nteaI', 'Classical', 'preshdamesh', 1685, 'kaanyildirim515', 1713, 'd4,d5,c4,e6,Bf4,Bd6,e3,Bxf4,exf4,Qf6,Nh3,Nc6,cxd5,Nxd4,Qa4+,Bd7,Qc4,exd5,Qxc7,Rc8,Qe5+,Qxe5+,fxe5,Nc2+,Kd2,Nxa1,Nc3,d4,Nb5,a6,Nd6+,Kd8,Nxf7+,Ke7,Nxh8,Nh6,Bd3,Rxh8,Rxa1,Bxh3,gxh3,Ke6,f4,Rf8,f5+,Kxe5,Re1+,Kf4,Re4+,Kg5,h4+,Kf6,Re6+,Kf7,Bc4,Nxf5,Rxa6+,Ke7,Re6+,Kd7,Re4,Kd6,Rf4,Ke5,Rf1,Rc8,Re1+,Kf6', 'Re6+,Kf7,Rc6+,Ke7,Rxc8', 'https://lichess.org/training/nteaI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTemY', 'Rapid', 'Kaled', 2004, 'drakeop', 2017, 'e3,e5,Nc3,d5,d4,exd4,exd4,Bb4,Nf3,Bg4,Bd3,Nf6,O-O,O-O,Bg5,h6,Bh4,Be7,Re1,Nc6,Ne2,Bxf3,gxf3,Nh7,Bxe7,Qxe7,Nf4,Qg5+,Ng2,Nxd4', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/NTemY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NtGgT', 'Classical', 'cacahotier', 1629, 'freddy207', 1655, 'e4,c5,Nf3,Nc6,d4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Bg4,O-O,e6,Qd3,Nf6,Ng5,Be7,Nxf7,Kxf7,d5,exd5,Bxd5+,Nxd5,Nxd5,Rf8,h3,Bxh3,Qf3+,Bf6,Nxf6,Qxf6,Qxh3,Nd4,Qd3,Kg8,c3,Nf3+,Qxf3,Qxf3,gxf3,Rxf3,Kg2,Raf8,Be3,R8f6,Rad1,R3f5,Rd8+,Kf7,Rd7+,Ke6,Rxb7,Rg6+,Kh3', 'Rh5#', 'https://lichess.org/training/NtGgT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTGIb', 'Blitz', 'taekwondo2005', 2315, 'Konevoyazher', 2147, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Nbd2,Nge7,Nb3,Nf5,g4,Nh4,Nxh4,Qxh4,Nxd4,Nxd4,Qxd4,Qxg4,Qxg4,Bxg4,a3,O-O-O,Be3,b6,Bg2,c5,O-O,Be6,b3,f6,exf6,gxf6,Rfd1,Re8,Bf4,Rg8,Kh1,h5,a4,h4,a5,b5,cxb5,Bxb3,Rdc1,Rxe2,Re1,Rxf2', 'Re8+,Kd7,Bc6#', 'https://lichess.org/training/NTGIb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nthJu', 'Rapid', 'TangoTenders', 971, 'kdude37', 878, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Bc4,Bg7,Be3,Nf6,Nc3,O-O,O-O,e6,Qd2,d5,exd5,exd5,Bd3,Re8,Rfe1,Ng4,h3,Nxe3,Rxe3,Bxd4,Ree1,Bf5,Rad1,Bd7,Qc1,Rc8,Nxd5,Ne5,Bc4,Nxc4,Rxd4,Rxe1+,Qxe1,Nxb2', 'Ne7+,Kf8,Nxc8', 'https://lichess.org/training/nthJu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NThYV', 'Rapid', 'AnonymementVotre', 1674, 'PARTHAK_APS_XI_A', 1688, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,O-O,f4,d6,Nf3,Bg4,Be2,e5,dxe5,dxe5,Nxe5,Bxe2,Qxe2,Re8,O-O,Nbd7,Rd1,Qe7,Nxd7,Nxd7,e5,Rad8,Be3,b6,Nb5,Nc5,Nxa7,Qe6,Nb5,Rc8,Rd5,Nb7,Rd2,f6,Nd4,Qe7,Nc6,Qe6,Nd4,Qe7,e6,c5,Nb5,Qxe6,Re1,Re7,Bf2,Qxe2,Rdxe2,Rxe2,Rxe2,Kf7,g4,Rd8,f5,gxf5,gxf5,Nd6,Rd2,Ke7,Rd5,Nxb5', 'Rxd8,Kxd8,cxb5', 'https://lichess.org/training/NThYV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTiJD', 'Blitz', 'Zimny_Toster', 1823, 'knightrunner', 1845, 'e4,e5,Nf3,d6,d4,f5,dxe5,fxe4,Ng5,d5,Nc3,Bb4,Bd2,Bxc3,bxc3,Ne7,Qh5+,g6,Qh6,Nf5,Qh3,Nc6,Bb5,Nd6,Bxc6+,bxc6,Qh6,Nf5,Qh3,Ba6,g4,Ng7,e6,Qe7,Nf7,Rf8,Qxh7,Nxe6,Qxg6,Qxf7,Qh6,Qxf2+,Kd1,Qf3+,Kc1,Qxh1+,Kb2,Rb8+,Ka3,Qxa1', 'Qxe6+,Kd8,Bg5+,Rf6,Bxf6#', 'https://lichess.org/training/nTiJD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NtIok', 'Rapid', 'Steilpass', 1628, 'DanielJahnel', 1664, 'd4,d5,Nf3,Nc6,Nc3,e6,e3,h6,Bd3,Nf6,O-O,Bd6,Re1,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Ne7,Be3,c6,Ne5,Bxe5,dxe5,Qxd1,Raxd1,Nd5,f4,b6,g3,Bb7,c4,Nxe3,Rxe3,Rfd8,Red3,Rxd3,Rxd3,Kf8,Rd7,Rb8,Rc7,Ba6,Rxc6', 'Bb7,Rc7,Bxe4', 'https://lichess.org/training/NtIok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTisr', 'Classical', 'IR2-D2', 1670, 'Wedar', 1602, 'b3,Nf6,Bb2,Nc6,g3,e5,Bg2,Be7,Bxc6,bxc6,Bxe5,O-O,Nf3,d6,Bb2,Re8,O-O,Bg4,d3,Bh3,Re1,d5,Nd4,Qd7,Nf3,Bd6,Bxf6,gxf6,d4,c5,c3,cxd4,cxd4,Kh8,Nc3,Rg8,Nxd5,Rg6,Nh4,Rh6,Qd2,Rxh4,Nxf6,Qe6,Qg5,Rxd4,Qh6,Bf5,e4,Bxe4', 'Rxe4,Qxe4,Nxe4', 'https://lichess.org/training/NTisr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTIXC', 'Blitz', 'palsi', 1810, 'Szybkiekonto123', 1915, 'c4,e6,g3,Nf6,Bg2,d5,Nf3,Be7,O-O,O-O,d4,dxc4,Na3,Bxa3,bxa3,Nbd7,a4,c5,a5,Rb8,Qa4,b5,axb6,axb6,Qxc4,b5,Qc2,c4,a4,Ba6,axb5,Bxb5,Bd2,Qc7,Ra3,Rfc8,Rfa1,Nd5,Ra7,Rb7,R7a5,c3,Ng5,N7f6,Bxc3,Qxc3,Qxc3,Nxc3,Bxb7,Re8,Ra7,Nxe2+,Kg2,h6,Nxf7,Nxd4,Ba6,Bc6+,Kh3,g5,Bd3', 'g4+,Kh4,Nf3#', 'https://lichess.org/training/nTIXC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ntiYr', 'Rapid', 'johnnycloaca', 1869, 'amrabdalla2016', 2055, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bb5,a6,Bxc6,dxc6,Na4,Ba7,d3,Bg4,h3,Bh5,O-O,Qd6,Nc3,O-O-O,a3,Nf6,Bg5,h6,Be3,Bxe3,fxe3,g5,g4,Bg6,b4,h5,Ne2,hxg4,hxg4,Qd7,Nxe5,Qd6,d4,Bxe4,Ng3,Qd5,Nxe4,Nxe4,Qf3,Rh4,c4,Qe6,Rad1,Nf6', 'Qxf6,Rxg4+,Nxg4', 'https://lichess.org/training/ntiYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ntJ5r', 'Rapid', 'fatypatyy', 1993, 'mach1966', 1743, 'e4,e5,d4,exd4,c3,d6,Bc4,Nf6,Qxd4,Be7,Nf3,O-O,O-O,Nc6,Qe3,Ng4,Qe2,Kh8,h3,Nf6,e5,dxe5,Nxe5,Nxe5,Qxe5,Bd6,Qg5,Ne4,Qxd8,Rxd8,Be3,Bf5,Bxf7,Rf8,Bb3,Rab8,Nd2,Nxd2,Bxd2,b6,Be3,c5,a4,a5,Rad1,Be7,g4,Be4,Rd7,Bf6,Rfd1,Bf3,R1d2,Be5,Bc4,Bf6,R7d6,Bh4,Rd7,Rf6,Rd8+,Rf8,Rxb8,Rxb8,Rd6,h6,Bb5,Kg8,Bc4+,Kf8,Bf4,Rb7,Bd5,Bxd5,Rxd5,Kf7,Kg2,Ke6,Re5+,Kf6,Rf5+,Ke6,Re5+,Kd7,Rd5+,Ke6,Rd6+,Kf7,f3,b5,axb5,Rxb5,Rd2,Bf6,Be3,a4,f4,a3,bxa3,Bxc3,Rc2,Bd4,Bxd4,cxd4,Rc4,d3,Rc3,d2,Rd3,Rb2,Kf3', 'Rb3,Ke2,Rxd3', 'https://lichess.org/training/ntJ5r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NtjZA', 'Rapid', 'tmp44567', 1708, 'shuco', 1826, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bc5,Bxc6,dxc6,Nxe5,Qd4,Nd3,Ng4,O-O,Bd6,h3,Nxf2,Nxf2,Qe5,Ng4,Bxg4,Qxg4,Qh2+,Kf2,Bc5+,Ke2,O-O,d3,Qd6,Bf4,Qd4,Qf3,f5,Be3,fxe4,Qxe4,Qd6,Qc4+,Kh8,Bxc5,Rae8+,Kd2', 'Qh6+,Rf4,Rxf4', 'https://lichess.org/training/NtjZA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTKdf', 'Rapid', 'flancito', 1871, 'oscarformosa', 2187, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nxd4,Nxd4,exd4,Re1,Qh4,Qxd4,f5,Nd2,Kd8,Nxe4,fxe4,Qe5,Bd6', 'Bg5+,Qxg5,Qxg5+', 'https://lichess.org/training/NTKdf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTKK0', 'Blitz', 'stubborn_d0nkey', 1958, 'uwe123', 1741, 'c4,Nf6,d4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,Bg7,Bb5+,Bd7,Bxd7+,Nxd7,O-O,O-O,Rb1,b6,g4,Nf6,Qe2,Nxg4,Bf4,cxd4,cxd4,Nf6,Kh1,Rc8,Rbc1,Nh5,Be3,Qd7,Ne5,Bxe5,dxe5,Rxc1,Rxc1,Rc8,Rg1,Ng7,Rg3,Qa4,Bg5,Rc2,Qd3,Rxf2,Be3,Rxa2,h4,Qb4', 'Qd8+,Ne8,Qxe8+,Kg7,Bh6+,Kxh6,Qf8+,Kh5,Rg5+,Kxh4,Qh6#', 'https://lichess.org/training/nTKK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTkKe', 'Rapid', 'seferiae', 1690, 'Txmxmn25', 1966, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,a5,Nc3,Be7,Be3,Rb8,Qd2,Bf6,Bxc5,Bxc3,Qxc3,Nf6,O-O-O,b5,Bxe6,dxe6,g4,b4,Qc4,e5,Ng5,Qd7,h3,h6,Nf3,Qc7,d4,Nxe4,d5,Nxf2,Bxf2,O-O,dxc6,Be6,Qe4,Bxa2,Nxe5,Rbe8,Qd4,Rxe5,b3,f6,Kb2,Bxb3,cxb3,Qxc6,Qc4+', 'Qxc4,bxc4,Re2+,Kb3,Rxf2', 'https://lichess.org/training/NTkKe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTKVd', 'Blitz', 'Strategenome', 1864, 'the_jkl', 1846, 'e4,c6,d3,d5,Nd2,dxe4,dxe4,Nf6,g3,e5,Bg2,Be6,Ngf3,Nbd7,O-O,Be7,Qe2,h5,h4,Bg4,Nc4,Qc7,Bd2,O-O-O,a4,Nc5,b4,Ncxe4,Be3,Bxb4,a5,Nc3,Qe1,e4,Bf4,Qd7,Nfe5,Qe6,Qe3,Ncd5,Qxa7,Nxf4,Nb6+,Kc7,gxf4,Bc5,Na8+,Rxa8,Qxc5,Rhd8,Qb6+,Kc8,Rab1,Rb8,Nxc6,Qxc6,Qe3,Nd5,Qxe4,f5,Qe5,Re8,Qxg7,Nxf4,Bxc6,bxc6,Rxb8+,Kxb8,Qb2+,Kc8,Qb6,Ne2+,Kh2,Bf3,Rb1,Kd7,Qb7+,Kd6,Qb4+,Ke6,Qb6,Rg8,a6', 'Rg2+,Kh3,Nf4#', 'https://lichess.org/training/nTKVd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTLhc', 'Classical', 'thiagonzaga', 1616, 'Millariepa', 1556, 'e4,e6,Nf3,c6,d4,Qa5+,Nc3,Bb4,Bd2,Nf6,e5,Ng8,Bd3,d5,Ng5,h6,Nxf7,Kxf7,Qf3+,Ke7,Bg6,Nf6,exf6+,gxf6,O-O,Nd7,Rfe1,Qc7,Bf4,e5,dxe5,fxe5,Bg3,Rf8,Qh5,Rh8,Bxe5,Nxe5,Rxe5+,Kd6,Qh4,Qg7,Rae1,Bc5,Bf5,Rf8,Bxc8', 'Bxf2+,Qxf2,Rxf2,Kxf2,Rxc8', 'https://lichess.org/training/NTLhc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTli1', 'Rapid', 'Amaris03', 1606, 'Rocketman58', 1641, 'd4,d5,c4,Nf6,Bf4,Nc6,e3,e6,Nf3,Bb4+,Nbd2,h6,Bd3,Nh5,Bg3,Nxg3,hxg3,Na5,a3,Bxd2+,Qxd2,Nb3,Qe2,Nxa1,Ne5,O-O,g4,f6,Ng6,Rf7,f4,b6,g5,c5,gxh6,gxh6,Qh5,Rh7,Ne7+,Qxe7,Bxh7+,Qxh7,Qe8+,Kg7,Qe7+,Kg6,Qe8+,Qf7', 'Rxh6+,Kxh6,Qxf7', 'https://lichess.org/training/NTli1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ntLRk', 'Blitz', 'pitijopo', 1781, 'jstooks9', 1775, 'd4,d5,e3,Nf6,Bd3,e6,c3,Bd6,Qc2,Nbd7,Nd2,c5,a4,c4,Be2,O-O,b3,Re8,bxc4,dxc4,Nxc4,Bc7,Nd2,b6,Ngf3,Bb7,O-O,e5,dxe5,Nxe5,Nxe5,Rxe5,Bf3,Bxf3,Nxf3,Rh5,h3,Qd6,Ba3,Qe6,Bb2,Rxh3,gxh3,Qxh3,Rfd1,Ng4,Qe4', 'Bh2+,Nxh2,Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/ntLRk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTNCP', 'Rapid', 'AbrahamYunusov', 1752, 'duaar', 1708, 'e4,c5,Nf3,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,d5,Nf6,Bc4,exd5,Nxd5,Be7,Nxf6+,Bxf6,Qe2+,Be7,Ne5,O-O,O-O,Nc6,Bf4,Nxe5,Bxe5,Re8,Qf3,Be6,Bxe6,fxe6,Qg3,Bf6,Bc7,Qd5,Rad1,Qxa2,Rd7,Qxb2,Bf4,Re7', 'Rxe7,Bxe7,Be5,Qxe5,Qxe5', 'https://lichess.org/training/nTNCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTNfe', 'Rapid', 'HRodriguo', 1673, 'ElAtrida', 1773, 'e4,c5,Nf3,e6,Nc3,Nc6,Bb5,Qb6,O-O,a6,Bc4,d6,a3,Be7,d3,Nf6,Be3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/nTNfe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NtnlE', 'Classical', 'coMeS80', 1600, 'Wert08', 1674, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,Bxf7+,Rxf7,Nxf7,Kxf7,Bg5,d6,Nc3,a6,Nd5,Be6,Qf3,Bxd5,exd5,Nd4,Qh3,h6,Rc1,hxg5,c3,Nb5,Qe6+,Kf8,O-O,Qd7,Qxd7,Nxd7,b4,Bb6,c4,Nd4,Rfe1,a5,b5,c6,bxc6,bxc6,dxc6,Nc5,Re3,Nxc6,Kh1,Nb4,Rf3+,Ke7,d4,Ncd3,Rb1,Bxd4,Kg1,Nxa2,Rb7+,Ke6,Rxg7,Nab4,Kf1,a4,Rff7,Nc6,Rc7,Ndb4,Rg6+,Kf5,Rcg7,a3,f3,a2,g4+,Kf4,Ke2,Rf8,Rg8,Rf7,R6g7,Rf6,Rg6,Rxg6', 'Rf8+,Rf6,Rxf6#', 'https://lichess.org/training/NtnlE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ntopK', 'Rapid', 'DavidHarasym', 1897, 'Omar-Alzain', 1897, 'e4,e5,Nf3,Bc5,Bc4,d5,Bxd5,Nf6,Bxf7+,Kxf7,Nxe5+,Ke8,d3,Bxf2+,Kxf2,Qd4+,Be3,Qxe5,Rf1,Ng4+,Ke2,Nxh2,Kd2,Nxf1+,Qxf1,Rf8,Qe2,Kf7,Nc3,Kg8,Rh1,Nc6,Kc1,Nd4,Bxd4,Qxd4,Qh5,h6,Kb1,Qf2,a3,Be6,Nd5,c6,Ne7+,Kh7', 'Qg6+,Kh8,Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/ntopK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTp40', 'Blitz', 'Somakhcheser', 1577, 'tommey212', 1642, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,d5,b3,Nc6,Bg5,Bxc3+,Bd2,Bxa1,Qxa1,Ne4,Bf4,Qh4,g3,Qh5,Bxc7,O-O,Nf3,dxc4,bxc4,b6,d5,exd5,cxd5,Qxd5,Bg2,Qc5,O-O,Nb4,Be5,f6,Bd4,Qc2,e3,Ba6,Ne1,Qc6,Qb1,Bxf1,Bxe4,Qb5,Bxh7+,Kh8,a3,Nd5,Qf5,Rad8,a4,Qc4,Qh5,Be2,f3,g6', 'Bxg6+,Kg7,Qh7#', 'https://lichess.org/training/NTp40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ntq8m', 'Rapid', 'Abdou092', 1776, 'Javier212', 1635, 'd4,Nf6,Bg5,e6,c4,h6,Bf4,g5,Bg3,d5,Nc3,c5,Be5,Bd6,Bxd6,Qxd6,e4,Nxe4,Nxe4,dxe4,d5,Qe5,b3,Nd7,Ne2,Nb6,Nc1,exd5,cxd5,Nxd5,Bb5+,Bd7,Bxd7+,Kxd7,O-O,Kc7,Ne2,Rad8,Qc2,f5,Qxc5+,Kb8,Nc3,a6,Rfd1,Rhe8,Rxd5', 'Rxd5,Qxd5,Qxc3', 'https://lichess.org/training/Ntq8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTQ9Z', 'Blitz', 'goldenwhale', 1635, 'Burhudarov', 1764, 'e4,c6,c4,d5,cxd5,cxd5,f3,dxe4,fxe4,e6,Nf3,Nf6,Nc3,Bb4,e5,Nd5,a3,Nxc3,bxc3,Bc5,d4,Bb6,Bd3,O-O,Qc2,g6,Bg5,Qc7,Bf6,Ba5,Rc1,Nd7,Qd2,Nxf6,exf6,Qd8,Qg5,Bc7,O-O,Kh8,Ne5,Bxe5,dxe5,Qxd3,Rf3,Qe4,Qh6,Rg8', 'Qxh7+,Kxh7,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/nTQ9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ntRAp', 'Rapid', 'Extrabomb', 1791, 'kshirale7985', 1826, 'd4,e6,e4,d5,exd5,exd5,Nf3,Nf6,Nc3,Be7,Bd3,Be6,O-O,Nc6,a3,Qd7,b4,a6,Bb2,Bg4,h3,Bxf3,Qxf3,Nxd4,Qe3,Nc6,b5,axb5,Bxb5,O-O,Bxc6,bxc6,Rfe1,Rfe8,Qd3,Reb8,Rab1,Bxa3', 'Bxa3,Rxb1,Nxb1', 'https://lichess.org/training/ntRAp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTRGy', 'Blitz', 'baldufa', 2102, 'DrG2020', 2205, 'd4,d5,c4,Nc6,Nc3,Nf6,Nf3,Bg4,cxd5,Bxf3,gxf3,Nxd5,e4,Nxc3,bxc3,e5,d5,Nb8,Rb1,b6,Bb5+,Nd7,Bc6,Rb8,f4,Bd6,f5,O-O,O-O,Nc5,Qg4,f6,Kh1,Qe7,Rg1,Kh8,Be3,Rg8,Qh5,Rbf8,Rg4,Qf7', 'Qxh7+,Kxh7,Rh4+,Qh5,Rxh5#', 'https://lichess.org/training/NTRGy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NtrOm', 'Classical', 'meesvlees', 1906, 'Alexeeyy', 1821, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,Bd2,Qc7,Bd3,Bg4,h3,Bh5,Ne2,Bxf3,gxf3,e6,Ng3,Bd6,Ne4,Nxe4,fxe4,Nd7,e5,Be7,Qg4,g6,O-O-O,O-O-O,Kb1,Kb8,h4,h5,Qf3,Rhf8,Bg5,Bxg5,hxg5,Qb6,c3,c5,Bf1,cxd4,cxd4,Rc8,Bg2,Rc7,Rhe1,Ka8,Re3,Nb8,Rb3,Qc6,d5', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/NtrOm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTS9V', 'Rapid', 'salah_23', 2257, 'Simiswaelder', 2340, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Nf3,Ngf6,Ng3,c5,c3,cxd4,Nxd4,Be7,Bd3,O-O,O-O,a6,f4,Qc7,Qe2,Re8,Ne4,b5,Nxf6+,Nxf6,Nf3,Bb7,Ne5,g6,Re1,Rad8,Bc2,Bf8,c4,Rc8,Bb3,b4,Be3,Ne4,Rad1,Nc5,Kh1,Red8,Bc2,a5,b3,Rxd1,Rxd1,Rd8,Bd4,f6,Ng4,Qxf4,Nxf6+,Kf7,Nd5,exd5', 'Rf1,Qxf1+,Qxf1+', 'https://lichess.org/training/NTS9V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTSFJ', 'Rapid', 'Pfefferminz', 1925, 'borgesgr', 1960, 'd4,d5,c4,dxc4,e3,a6,Bxc4,e6,Nf3,b5,Bd3,Bb7,b3,Nd7,Bb2,Ngf6,Nbd2,c5,O-O,Nb6,Rc1,Be7,dxc5,Bxc5,Bxf6,gxf6,Bxb5+,axb5,Rxc5,Qd6,Qc2,Rc8,Rxc8+,Nxc8,Rc1,O-O,Qc5,Qd3,Qd4,Qg6,Qd7,Bxf3,Nxf3,Kh8,g3,Nb6,Qxb5,Nd5,Qc4,Qf5,Nh4,Qg5,f4,Qg4,Re1,Rg8,Qc5,Qxh4,Kg2,f5,b4,Nf6,Qe7,Re8', 'Qxe8+,Nxe8,gxh4', 'https://lichess.org/training/nTSFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTSsf', 'Rapid', 'Dio_Rider_24', 1720, 'Rksagar', 1724, 'b3,e5,Bb2,Nc6,e3,a6,f4,d6,fxe5,dxe5,Nf3,Bg4,Be2,Bxf3,Bxf3,Qd7,Bxc6,Qxc6,O-O,f6,Qh5+,g6,Qh3,Qxc2,Qe6+,Be7,Ba3,Qc6,Qxc6+,bxc6,Bxe7,Nxe7,Rxf6,O-O-O,Re6,Nd5,Rxc6,Nb4,Rc5,Nd3,Rc6,Rhf8,Rxa6,Kb7,Re6,Rf2,Nc3,Rdf8,Ne4,Re2,Rf1', 'Rxf1+,Kxf1,Re1#', 'https://lichess.org/training/NTSsf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTtE0', 'Rapid', 'vbgk', 1741, 'Mnukovic', 1794, 'd4,d5,Bf4,e6,e3,a6,Nf3,Bd6,Bg3,Bxg3,hxg3,Nf6,Bd3,Nc6,Nbd2,h6,c3,Bd7,Ne5,Qe7,f4,O-O-O,b4,Na7,a4,Ne4,Nxe4,dxe4,Bxe4,c6,Nxd7,Rxd7,Qg4', 'f5,Qg6,fxe4', 'https://lichess.org/training/nTtE0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTuP2', 'Blitz', 'FM Rile-Man', 2473, 'Sachitachess', 2144, 'd4,Nf6,Bf4,d5,e3,c5,Nf3,e6,c3,Bd6,Bg3,Qc7,Bxd6,Qxd6,Ne5,Nbd7,f4,O-O,Nd2,b6,Bd3,a5,Qe2,c4,Bc2,b5,e4,dxe4,Nxe4,Nxe4', 'Qxe4,f5,Qxa8', 'https://lichess.org/training/NTuP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NtV20', 'Rapid', 'cemsevincc', 2114, 'superplayerr', 2150, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,Qd2,Nc6,f3,Bd7,g4,Rc8,h4,h5,gxh5,Nxh5,Bh6,Bxh6,Qxh6,Nxd4,O-O-O,Nxe2+,Nxe2,Qc7,c3,Ba4,Rdg1,Qc5,f4,Qe3+,Kb1,Qxe2,Rxg6+,fxg6,Qxg6+,Kh8,Qh6+,Kg8,Rg1+,Kf7', 'Qg6#', 'https://lichess.org/training/NtV20');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NTVIE', 'Rapid', 'soren2500', 1772, 'ammoro', 1700, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Nge7,d4,cxd4,Nxd4,d5,exd5,exd5,Bb5,g6,Bg5,Bd7,Re1,Bg7,Bxc6,bxc6,Rxe7+,Kf8,Rxf7+,Kxf7,Bxd8,Raxd8,c3,Rhe8,Qf3+,Kg8,Nd2,Rf8,Qg3,Rde8,Qd6,Rf7,Nxc6,Bf8,Qxd5,Bxc6,Qxc6,Rfe7,h3,Bh6,Nf3,Bf4,g3,Bh6,Nh4,Rf8,a4,Ref7,Rf1,Be3,Qc4,Bb6,Kg2,Kg7,f4,Re7,b4,Rfe8,Kf3,Re3+,Kg4', 'h5+,Kg5,Rxg3#', 'https://lichess.org/training/NTVIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTW0g', 'Classical', 'xdaay', 1839, 'montrea13x', 1680, 'd4,f5,Nc3,Nf6,f3,d5,Bg5,Nbd7,Qd3,e6,e4,h6,Bxf6,Qxf6,exd5,exd5,Nxd5,Qe6+,Ne3', 'f4,Qe4,Qxe4,fxe4,fxe3', 'https://lichess.org/training/nTW0g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nty4l', 'Blitz', 'iknowyouedy', 1657, 'MyasoroobM1xer', 1661, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,e5,d5,c6,Qd2,cxd5,cxd5,Re8,Bh6,Bh8,Nge2,Nbd7,h4,a5,Ng3,Nc5,h5,Bd7,hxg6,fxg6,Bg5,Rb8,Bb5,Bxb5,Nxb5,Qb6,Nc3,Qa6,Nf5,gxf5,Bxf6,Bxf6,Qh6,Bg7,Qxh7+,Kf8,Qxf5+,Kg8,O-O-O,Nd7,Qxd7,b5,Rh3,b4,Na4,Rec8+,Kb1,Qc4,Qe6+,Kf8,Qxd6+,Kg8,Qe6+,Kf8,Qd6+,Ke8,Rdh1', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/nty4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nTZFu', 'Blitz', 'Sanyaaa', 1801, 'Dmitro50', 1840, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,e6,Bd3,d5,exd5,cxd5,O-O,h6,Bd2,Bd6,Ne2,Qc7,f4,Ng4,Bc3,Bc5+,Kh1,Nf2+,Rxf2,Bxf2,Bxg7,Rg8,Bxh6,f5,Bg5,Qh7,Qf1', 'Qxh2+,Kxh2,Rh8+,Bh6,Rxh6#', 'https://lichess.org/training/nTZFu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NtZhE', 'Rapid', 'CeperaKupoB', 1888, 'P_rana12', 1816, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,Be7,Bc4,O-O,O-O,a6,d4,exd4,Nxd4,c5,Nf3,Nc6,a3,b5,Ba2,Nd4,Nxd4,cxd4,Qxd4,Bb7,f3,Rc8,Bg5,d5,exd5', 'Bc5,Qxc5,Rxc5', 'https://lichess.org/training/NtZhE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NtZun', 'Rapid', 'Stauton', 1660, 'Dr-Zoidberg', 1792, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Nbd7,Bd3,Qc7,O-O,dxc4,Bxc4,b6,e4,Be7,Re1,O-O,Bg5,Re8,e5,Nd5,Nxd5,exd5,Bd3,Bb7,h4,Nf8,Bxe7,Qxe7,Ng5,h6,Qh5,hxg5,hxg5,Bc8,Re3,f6,exf6,Qf7,Bg6,Qxg6', 'Qxg6,Nxg6,Rxe8+', 'https://lichess.org/training/NtZun');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NU0am', 'Classical', 'CaturVierD', 1782, 'baysah', 1758, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,Nxd4,Nxd4,Qxd4,Qe7,Ba3,d6,Bb5+,Bd7,Bxd7+,Kxd7,O-O,Bb6,Qxg7,Nf6,e5,Ne4', 'Qg4+,Qe6,Qxe4', 'https://lichess.org/training/NU0am');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nU1XS', 'Rapid', 'cplyakap1905', 2136, 'BlackBranca', 2191, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,O-O,Nc3,d6,Nf3,Nc6,d5,Nb8,O-O,e5,dxe6,Bxe6,b3,Ne4,Nxe4,Bxa1,Bg5,f6,Qxa1,fxg5,Nfxg5,Bf5,Nf6+,Qxf6,Qxf6,Rxf6,Bxb7,h6,Nf3,c6,Bxa8,Kf7,Nd4,Bd7,b4,a6,a4,c5,Bd5+,Ke7,bxc5,dxc5,Rb1,cxd4,Rxb8,Bxa4,Rb7+,Kd8,Kf1,Bd7,f3,a5,Ke1,Kc8,Kd2,Rd6,Ra7,a4,Kd3,Kb8,Ra8+,Kc7,Kxd4,g5,c5', 'Rxd5+,Kxd5,Bc6+,Kd4,Bxa8', 'https://lichess.org/training/nU1XS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NU49J', 'Rapid', 'ibro56', 1701, 'jonisjonis', 1658, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,c5,d5,exd5,cxd5,d6,Bg5,Bxc3+,bxc3,O-O,e4,Bg4,Be2,h6,Bxf6,Qxf6,c4,Nd7,O-O,Ne5,Nxe5,Bxe2,Qxe2,Qxe5,f4,Qd4+,Kh1,Rfe8,Rfe1,Re7,Rad1,Qc3,Rc1,Qa3,e5,Rae8,Qf2,dxe5,fxe5,Rxe5,Rxe5', 'Qxc1+,Qg1,Qxg1+,Kxg1,Rxe5', 'https://lichess.org/training/NU49J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nU5MV', 'Blitz', 'DiSTRoYerGUNN', 1742, 'WOLFPALESTINE93', 1735, 'e4,e5,f4,d6,Nf3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,h6,d4,exf4,d5,Bd7,Bxf4,g5,Bg3,Bg7,O-O,Qe7,Qd3,O-O-O,a4,h5,Bf2,h4,Bxa7,g4,Nd4,g3,h3,Bxh3,gxh3,Nf6,Nf5,Qd7,Nxg7,Qxh3,Qe2,Rhg8,Nf5,g2,Ne7+,Kd7,Nxg8,Rxg8,Rxf6', 'Qh1+,Kf2,g1=Q+,Rxg1,Qxg1+,Kf3,Qg3#', 'https://lichess.org/training/nU5MV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NU60o', 'Rapid', 'Hiwax', 1719, 'stoneworker', 1679, 'e4,e5,Nf3,f5,Nxe5,Nf6,exf5,d5,d4,Bxf5,Bd3,Bxd3,Qxd3,Bd6,O-O,O-O,Bg5,Nc6,Nxc6,bxc6,Nc3,h6,Be3,Ng4,g3,Rf3,Qg6,Nxe3,fxe3,Qf6,Qxf6,Rxf6,Rxf6,gxf6,Rf1,Kg7,e4,dxe4,Nxe4,Be7,b3,a5,a4,Rd8,c3,Rd5,g4,Kg6,h3,f5,gxf5+,Rxf5,Ng3,Rg5,Kg2,Bd6,Rf3,h5,h4,Rg4,Kh3,c5,dxc5,Bxc5,Rf5', 'Rxg3+,Kxg3,Kxf5', 'https://lichess.org/training/NU60o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nU6qR', 'Rapid', 'Vytautas15', 1676, 'izengland', 1643, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,Bf4,Nc6,d5,Nxe5,Bxe5,dxe5,c5,Nxd5,Bc4,e6,Nc3,Bxc5,Nxd5,exd5,Bxd5,c6,Bxf7+,Kxf7,Qh5+,g6,Qf3+,Kg7,Rd1,Bd4,Ne2,Qh4,Nxd4,exd4,O-O,Rf8,Qd3,Bf5,Qc4,Rae8,Rxd4,Re4,Rxe4,Qxe4,Qc3+,Rf6,Re1,Qg4,Re7+,Kh6,f3,Qg5,h4,Qxh4,Qe3+,Qg5', 'Rxh7+,Kxh7,Qxg5', 'https://lichess.org/training/nU6qR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nu71w', 'Rapid', 'TarekHany5', 2204, 'Vrungelino', 2104, 'Nf3,d5,g3,e6,Bg2,Nf6,O-O,c5,d3,b6,Bg5,Bb7,Bxf6,Qxf6,Nc3,Nd7,e4,d4,Ne2,Be7,Nd2,O-O', 'e5,Nxe5,Bxb7', 'https://lichess.org/training/Nu71w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nu964', 'Rapid', 'Shahmatyst-777', 1755, 'adeqe', 1733, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,O-O,h6,Qb3,Qe7,Rd1,Na5,Qb5,Nxc4,Qxc4,d6,cxd4,Bb6,Nc3,Bg4,Ba3,Bxf3,gxf3,Qg5+,Kh1,Qf4,Rd3,Ne7,Re1,O-O,e5,Ng6,Re4,Qf5,exd6,cxd6,Bxd6,Rac8,Qb3,Rfe8,Rde3,Rxe4,Nxe4,Bxd4,Rd3,Rc1+,Kg2,Nf4+', 'Bxf4,Qxf4,Rxd4', 'https://lichess.org/training/nu964');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nUAAf', 'Rapid', 'Yalomed', 1715, 'lonba', 1742, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,c4,Nf6,Bd3,Be7,O-O,b6,Nc3,Bb7,Nd5,O-O,Bg5', 'Nxd5,cxd5,Bxg5', 'https://lichess.org/training/nUAAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NucaD', 'Blitz', 'SamuelMV', 2415, 'NM leonteo', 2443, 'd4,e6,c4,f5,g3,Nf6,Bg2,Be7,Nf3,d6,O-O,O-O,Nc3,Ne4,Qc2,Nxc3,Qxc3,a5,Nd2,Bf6,e4,e5,d5,f4,Nf3,fxg3,hxg3,Nd7,Be3,b6,b3,Qe8,a3,Qh5,b4,h6,c5,bxc5,bxc5,Ba6,Rfc1,Be7,cxd6,cxd6,Nd2,Bg5,Bxg5,Qxg5,Nf1,Nc5,Ne3,Bc8,Nc4,Rf6,Nxd6,Rxd6,Qxc5,Rf6,d6,Be6,Rc2,Kh7,Rac1,Rc8,Qxa5', 'Qxc1+,Rxc1,Rxc1+', 'https://lichess.org/training/NucaD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NUCRm', 'Classical', 'keseyy', 1734, 'PiMax', 1876, 'c4,c5,g3,Nf6,Bg2,g6,e4,Bg7,d3,d6,Nc3,Nc6,Rb1,O-O,Nf3,Nd4,Nxd4,cxd4,Nd5,Nxd5,exd5,Bf5,g4,Bd7,h3,Qa5+,Bd2,Qxa2,O-O,f5,f3,fxg4,hxg4,b5,Qc2,bxc4,dxc4,Ba4,Qd3,Rac8,b3,Bxb3,Rxb3,Qa6,Ra3,Qxc4,Qxc4,Rxc4,Rxa7,Rc2,Bg5,d3,Rd1', 'Bd4+,Kh2,Bxa7', 'https://lichess.org/training/NUCRm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nUcx0', 'Rapid', 'I_Alchemist', 1910, 'potato7890', 1887, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Bd6,O-O,O-O,Bg5,b6,Nbd2,c5,c3,c4,Bb1,Nc6,Re1,Bd7,Nf1,h6,Bh4,g5,Bg3,Qc7,Qd2,Bg4,Nxg5,Rfe8,Ne3,hxg5,Nxg4,Rxe1+,Qxe1,Nxg4,Bf5,Nf6,Qe3,Bf4,Qf3,Ne4,Bxe4,dxe4,Qxe4,Kg7,Re1,Bxg3,hxg3,Rh8,Qf5,f6,Re6,Rh6,d5,Ne5', 'd6,Qd8,Re7+,Qxe7,dxe7', 'https://lichess.org/training/nUcx0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NUdDW', 'Rapid', 'Quatehmoch', 2059, 'AD21', 2025, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,c3,Bc5,O-O,d6,h3,g5,Nh2,Na5,Bb5+,c6,Ba4,b5,Bc2,Be6,b4,Bb6,bxa5,Bxa5,Bd2,c5,a4,a6,c4,b4,Be3,Qd7,Nd2,Ke7,Nb3,Bc7,a5,Rag8,Nd2,g4,h4,Nh5,g3,Bd8,Ba4,Qc8,Bc6,Qxc6,Re1,Kf8,Ndf1,f5,exf5,Bxf5,Bc1,Rg6,Ne3,Qd7,Nd5,Be6,Nb6,Qb7,Qa4,Nf6,Nf1,Nd7,Ne3,Nxb6,axb6,Bc8,Nd5,Rh7,Be3,h5,Re2,Bxb6,Rea2,Qb8,Qc2,Rf7,d4,Bf5,Qa4,Ra7,dxe5,dxe5,Bg5,Re6,Nf6,Bd8', 'Nd7+,Rxd7,Qxd7', 'https://lichess.org/training/NUdDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NUdJE', 'Blitz', 'Number34', 1808, 'chess-izy', 1843, 'd4,d5,Nf3,Nf6,e3,e6,Bd3,Ne4,Nfd2,f5,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1+', 'https://lichess.org/training/NUdJE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NUdRO', 'Rapid', 'ADTank', 1614, 'bipet', 1683, 'e4,f5,exf5,Nf6,d4,d5,Bd3,e6,fxe6,Bxe6,Nf3,Bd6,Bg5,O-O,Nc3,c6,Ne5,Qe8,O-O,Bxe5,dxe5,Nfd7,Re1,Nc5,b4,Nxd3,Qxd3,Qh5,Qg3,Na6,a3,Rf7,Ne2,Rf5,Bf6,Qg6,Qxg6,hxg6,Ng3,Rf4,Bg5,Rc4,Re2,Nc7,Rc1,Nb5,Re3,Nd4,c3,Nf5,Nxf5,gxf5,Rh3,Kf7,Rh7', 'Kg6,Rxg7+,Kxg7', 'https://lichess.org/training/NUdRO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NUe0i', 'Blitz', 'OddBinds', 1702, 'Sifnosguy', 1656, 'd4,g6,Nf3,Bg7,Bg5,d6,e3,Nf6,Bd3,O-O,Bxf6,Bxf6,h4,Nd7,h5,e5,dxe5,Nxe5,Nxe5,Bxe5,h6,Bxb2,Nc3,Bxc3+,Ke2,Bxa1,Qxa1,f6,c4,c5,Qb1,b6,Bxg6,hxg6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/NUe0i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nuekU', 'Rapid', 'Vyndryx', 1991, 'dextersmith', 1938, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,d3,Be7,h3,O-O,Be3,a5,a4,c6,Qd2,Kh7,g4,Be6,Bxe6,fxe6,g5,Nxe4,Nxe4,Rxf3,gxh6,g6,Bg5,d5', 'Bxe7,Qxe7,Ng5+,Kh8,Nxf3', 'https://lichess.org/training/nuekU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nUEQp', 'Rapid', 'Ridder', 1836, 'antho49', 1752, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c3,Bg7,Be3,e6,Be2,Nge7,O-O,O-O,Nd2,d5,f3,dxe4,Nxe4,Nd5,Bf2,Nf4,Nxc6,bxc6,Qxd8', 'Nxe2+,Kh1,Rxd8', 'https://lichess.org/training/nUEQp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nuEz8', 'Classical', 'tadedischen', 1878, 'Khmer804', 1858, 'd4,d5,c4,c6,Nf3,e6,e3,f6,Nc3,Bb4,Qc2,a5,Bd2,Ne7,Bd3,O-O,Bxh7+,Kf7,cxd5,cxd5,a3,Bxc3,Bxc3,g6,Nh4,f5,b4,b6,Qd2,Nbc6,e4,dxe4,Qh6,axb4,Bxg6+,Nxg6,Qxg6+,Ke7,Qg7+,Kd6,Bb2,Rg8,Qh6,Rh8,Qf4+,Kd7,Ng6,Rg8,Ne5+,Nxe5,dxe5,Kc7,O-O,bxa3,Bxa3,Kb7,Bd6,Rxa1,Rxa1,Qg5,Qxg5,Rxg5,g3,Bd7,Rc1,Bc6,h4,Rg7,Rb1,Ka6,Ra1+,Kb5,Rb1+,Ka5,Ra1+,Ba4,Rb1,Rg8,Bc7,Bb5,Rd1,Rg7,Ra1+,Ba4,Rc1,Rd7,Bd6,b5,Kg2,b4,h5,Rh7,Rh1,b3,h6,Kb5,Kf1,b2,Ke2,Bc2,Kd2,b1=Q,Rxb1+,Bxb1,Bf8,Kc4,Bg7,Kd4,Ke2,Bc2,Kd2,Bd3,Ke1,Kc3,Kd1,Bf1,Ke1,Bg2,Ke2,Bf3+,Ke3,Kc4,Kf4,Kd3,Kg5,Ke2,Kg6,Rxg7+', 'hxg7,Kxf2,g8=Q', 'https://lichess.org/training/nuEz8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nUFfh', 'Rapid', 'eomanx5', 1873, 'royalcordova', 1915, 'd4,d5,c4,c6,c5,Nf6,Nc3,Nbd7,Bf4,Nh5,Bg5,Qc7,e4,dxe4,Qxh5,e5,Bc4,g6,Qh4,exd4,Nxe4,Qe5,O-O-O,Bxc5,Nxc5,Qxc5,Qe4+,Ne5,Kb1', 'Bf5,Qxf5,gxf5', 'https://lichess.org/training/nUFfh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nUgfM', 'Rapid', 'Emir84', 1820, 'orchys53', 1734, 'e4,e6,Nf3,c5,c3,d5,e5,Nc6,d4,Qb6,Be2,Nge7,O-O,cxd4,Nxd4,Nxe5,Bf4,N7c6,Bxe5,Nxe5,Re1,Qxb2,Bb5+,Nd7,Bxd7+,Bxd7,Nd2,Qxc3,N2f3,Be7,Ne5,Qc8,Rc1,Qd8,Nxf7,Kxf7,Qf3+,Bf6,Qh5+,g6,Qg4,e5,Qf3,e4,Qf4,Kg7,Nb3,Re8,Nc5,Be5,Qe3,Bc6,f4,d4,Qg3,Bd6,Qg4,Bxc5,Rxc5,Qd7,f5,Rf8,Rxe4,Bxe4', 'f6+,Kxf6,Qxd7', 'https://lichess.org/training/nUgfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NUggI', 'Classical', 'Wakanda_warrior', 1705, 'NotACatOK', 1711, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,d4,exd4,Nxd4,O-O,O-O,d6,Be3,Nxd4,Bxd4,Be6,Qe2,Qd7,Rad1,a6,e5,Ng4,h3,Nh6,Rfe1,Nf5,Nd5,Nxd4,Rxd4,Bxd5,Bxd5,c6,Bb3,d5,c4,Bc5,Rdd1,d4,Bc2,Rfe8,Kh1,Re7,a3,Rae8,f4,a5,Qe4,g6,b4,axb4,axb4,Bxb4,Rxd4,Qc7,Red1,f6,Qf3,fxe5,fxe5,Qxe5,Re4,Qc3', 'Rxe7,Qxf3,Rxe8+', 'https://lichess.org/training/NUggI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NugY5', 'Blitz', 'mashir', 1821, 'tadokoro', 2237, 'd4,Nf6,e3,g6,Bd3,Bg7,Nd2,O-O,Ngf3,d6,h3,Re8,O-O,e5,dxe5,dxe5,e4,b6,Nc4,Bb7,Bg5,Nbd7,Bh4,h6,Bxf6,Nxf6,Qe2,Nh5,g3,Qd7,Kg2,Rad8,Rad1,Qc8,c3,c5,Ne3,Nf6,Bb5,Nxe4,Bxe8,Ng5,Rxd8,Bxf3+,Qxf3', 'Qxh3+,Kg1,Nxf3#', 'https://lichess.org/training/NugY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NUhRv', 'Rapid', 'Kozubal', 1674, 'Toffa', 1692, 'b3,c6,Bb2,d5,c4,Nf6,e3,Bf5,Nc3,e6,d4,Bb4,a3,Bxc3+,Bxc3,Ne4,Bb2,O-O,Bd3,Na6,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/NUhRv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NuljV', 'Rapid', 'sgcasua1', 1622, 'Marshall7593', 1720, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bg4,Be2,Nd7,O-O,Bd6,d5,Ne5,Nxe5,Bxe2,Qxe2,fxe5,dxc6,bxc6,Rd1,O-O,Qc4,e4,Qxc6', 'Bxh2+,Kxh2,Qxd1', 'https://lichess.org/training/NuljV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nuM6j', 'Rapid', 'jaberalamrain', 1789, 'al111', 1630, 'e4,e5,f4,d6,Nf3,Bg4,d4,exd4,Qxd4,Nc6,Bb5,Ne7,O-O,a6,Bxc6+,Nxc6,Qc3,Be7', 'Qxg7,Bf6,Qxg4', 'https://lichess.org/training/nuM6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NUmEp', 'Blitz', 'paulosk', 1787, 'brendanashworth', 1727, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Nc6,Nf3,Nge7,Bb5,Nf5,O-O,Bd7,Bd3,g6,Bxf5,gxf5,Bg5,Qc7,Bf6,Rg8,Qd2,Rg6,Nh4,Rxf6,exf6,O-O-O,Rab1,e5,Nf3,exd4,cxd4,cxd4,Nxd4,Ne5,a4,Nc4,Qb4,Rg8,Nb5,Bxb5,Qxb5,Nd2,a5', 'Nf3+,Kh1,Qxh2#', 'https://lichess.org/training/NUmEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nuMPS', 'Blitz', 'paradous', 1944, 'umbygix', 1903, 'e4,d5,e5,c5,f4,Nc6,Nf3,Bf5,c3,e6,d3,Nge7,Na3,Bg6,Nh4,Nf5,Nxg6,hxg6,Qf3,Qh4+,Qf2,Ng3,Rg1,Qxh2,Nb5,O-O-O,Nd6+,Bxd6,exd6,d4,Bd2,Rxd6,O-O-O,Nf5,Be2,f6,Rh1,Qxh1,Rxh1,Rxh1+,Kc2,dxc3,bxc3,Rh8,Qxc5,Rhd8,d4,Kb8,Bf3,Nce7,Qb4,Nd5,Bxd5,Rxd5,g4,Ng3,Be1,Ne4,Qe7,R5d6,Qxg7,Rc6,Kd3,Nc5+,Ke2,Na4,Qxf6,Rdc8,Qxg6,Nxc3+,Bxc3,Rxc3,Qxe6,Rc2+,Kd3', 'R8c3+,Ke4,Re2+,Kd5,Rxe6', 'https://lichess.org/training/nuMPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NunAY', 'Classical', 'MarioPetrusca', 1966, 'selfisolating', 1959, 'e4,f5,e5,d6,Nf3,dxe5,Nxe5,Nd7,Qh5+,g6,Nxg6,Ngf6,Nxf8+,Nxh5,Ne6,Nc5,Nxd8,Kxd8,d4,Ne4,f3,Nd6,c4,Be6,b3,a6,d5,Bd7,Bb2,Rg8,Kf2,c6,c5,Nb5,d6,exd6,a4,Nc7,cxd6,Nd5,g3,Re8,Nd2,b5,axb5,cxb5,f4,Nhf6,Re1', 'Ng4+,Kg1,Rxe1', 'https://lichess.org/training/NunAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nUoPc', 'Blitz', 'kotogo66', 1685, 'Combo4U2', 1691, 'd4,e6,Nf3,Ne7,Bf4,Ng6,Bg3,Be7,e3,f5,Bd3,d6,O-O,O-O,h3,Nc6,Bc4,d5,Bd3,Nb4,c3,Nxd3,Qxd3,Bd7,Ne5,Nxe5,Bxe5,a6,c4,dxc4,Qc3,Kh8,a4,b5,Nd2,bxa4,Nxc4,Bb5,Rfc1,Qd5,Nd2,c6,f3,Rac8,e4,fxe4,fxe4,Qd7,Qg3,Rg8,Nf3,Bf6,Nh4,Bxe5', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/nUoPc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NUp9a', 'Bullet', 'gbbrito', 1592, 'Eugene_02130', 1690, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Nd4,Nxd4,exd4,Ne2,a6,d3,axb5,Nxd4,c6,Bg5,Bc5,Nb3,Bxf2+,Kxf2,Nxe4+,dxe4,Qxg5,Rf1,Qh4+,Kg1,O-O,Kh1,Qxe4,Nd2,Qe5,Qf3,Qxb2,Rae1,Qxc2', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/NUp9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nupip', 'Blitz', 'getgetgot', 1777, 'henkdo', 1572, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,dxc5,Bxc5,Nf3,Nc6,Bg5,h6,Bh4,g5,Bg3,d5,e3,Nb4,Qb3,dxc4,Bxc4,Bd7,a3,Nc6,Rd1,O-O,Qc2,Qe7,Ne5,Nxe5,Bxe5,Rfd8,O-O,Bc6,Qe2,Rxd1,Rxd1,Rd8,Rc1,a6,Ba2,b5,Bb1,Bd6,Bxf6,Qxf6,Qh5,Bb7,Rf1,Be5,Ne4,Bxe4,Bxe4,Bxb2,f4,Bxa3,fxg5,Qxg5', 'Qxf7+,Kh8,Qh7#', 'https://lichess.org/training/nupip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nUrPI', 'Rapid', 'mosaajj', 1903, 'lemilio775', 1873, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,e6,d4,Nf6,Bg5,Be7,Bf4,c6,O-O,Nbd7,Qd2,h6,h3,Bf5,Bd3,Bxd3,Qxd3,Nb6,Ne4,Nfd5,Bh2,f5,Ned2,Bd6,Ne5,Qc7,c4,Nb4,Qc3,c5,dxc5,Qxc5,a3,Nc6,b4', 'Bxe5,Bxe5,Qxe5', 'https://lichess.org/training/nUrPI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NUsTL', 'Classical', 'ViljarAM', 1872, 'HousemasterMOD', 1856, 'e4,c5,Nf3,Nc6,d4,Nf6,Nc3,e6,Bg5,h6,Bh4,g5,Bg3,d5,exd5,Nxd5,Nxd5,exd5,Bb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/NUsTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nutcw', 'Classical', 'cataldif', 1731, 'nironsukumar', 1806, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,h6,O-O,Nf6,Nc3,Bb7,Re1,Bc5,Bd5,O-O,Bxc6,Bxc6,Nxe5,Bb7,d4,Bb6,Kh1,d6,Ng4,Bxd4,Bxh6,gxh6,Nxh6+,Kh7,Nf5,Bxc3,bxc3,Nxe4,Qh5+,Kg8,Nh6+,Kg7,Nf5+,Kf6,Qf3,Ke5,Rxe4+', 'Bxe4,Re1,d5', 'https://lichess.org/training/nutcw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nuUAJ', 'Classical', 'DB100', 1626, 'sadramahdizadeh', 1729, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Bg5,Be6,Nc3,c6,Nd4,h6,Nxe6,fxe6,Bxf6,gxf6,O-O-O,f5,Re1,e5,f4,Nd7,fxe5,dxe5,d4,exd4,Nd5,cxd5', 'Qh5+,Kd8,Rxe7', 'https://lichess.org/training/nuUAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nuVGn', 'Classical', 'Kulotov', 1824, 'kingqueenbishop', 1820, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Be7,d4,exd4,Nxd4,d6,Nxc6,bxc6,O-O,O-O,f4,Be6,Bd3,Nd7,f5,Bxf5,Rxf5,g6,Rf3,Ne5,Rf1,Bg5,h3,h5,Ne2,Bxc1,Rxc1,Qg5,Nd4', 'Qe3+,Kh1,Qxd4', 'https://lichess.org/training/nuVGn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nUvpJ', 'Rapid', 'JB007GY', 1767, 'roberto212', 1787, 'e4,c5,c3,d5,exd5,Qxd5,Nf3,Nc6,b3,Nf6,Bc4,Qe4+,Be2,Bg4,O-O,e6,Re1,Qg6,d4,cxd4,Nxd4,Bxe2,Nxe2,Rd8,Bd2,Bd6,Ng3,O-O,Qe2,Ne5,Qb5,Neg4,Qxb7,Bc5,Rf1,Rd7,Qc6,Bb6,a4,Rfd8,a5,Bxf2+,Rxf2,Nxf2,Kxf2,Rxd2+,Nxd2,Rxd2+,Kg1,h6,Qa8+,Kh7,Qxa7,Qc2,Qb7,Qxc3,Rf1,Rd7,Qb5,Qd4+,Kh1,Ng4,a6', 'Nf2+,Rxf2,Qxf2', 'https://lichess.org/training/nUvpJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nUvpm', 'Blitz', 'Wowochka-1', 1863, 'Valkyriae', 1849, 'd4,d5,c4,e6,Nf3,Nf6,g3,c6,Bg2,Bd6,O-O,O-O,Nc3,Nbd7,cxd5,exd5,Bf4,Bxf4,gxf4,Re8,e3,Ne4,Ne5,Nxe5,Nxe4,Nc4,Nc5,b6,Nd3,Bf5,b3,Nd6,Kh1,f6,Rg1,Be4,Qg4,Bxd3', 'Bxd5+,Kf8,Qxg7#', 'https://lichess.org/training/nUvpm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NuwAW', 'Rapid', 'Azatobekzato', 1907, 'mehrsam2014', 1888, 'c4,d6,Nc3,Nf6,Nf3,g6,d4,Bg7,e4,O-O,h3,Ne8,Be3,e5,d5,f5,exf5,Bxf5,Bd3,e4,Bxe4', 'Bxc3+,bxc3,Bxe4', 'https://lichess.org/training/NuwAW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NuwpC', 'Classical', 'davidson094', 1726, 'chak7333', 1797, 'e4,c5,Nc3,Nc6,Bc4,e6,d3,Nf6,Nf3,d5,Bb3,d4,Ne2,a6,a3,b5,O-O,Bb7,Bg5,Be7,Nf4,Nxe4,Bxe7,Qxe7,dxe4,c4,Ba2,Rd8,Qe2,Kf8,Rfd1,g6,b3,Qf6,Nh3,cxb3,Bxb3,Kg7,e5,Qf5,Nh4,Qxe5,Qxe5+,Nxe5,Nf3,Bxf3,gxf3,Nxf3+,Kh1,Rd6,Ng1,Ng5,Kg2,Rhd8,Nf3,Ne4,Rd3,Nc5,Rxd4', 'Rxd4,Nxd4,Rxd4', 'https://lichess.org/training/NuwpC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nUWRQ', 'Rapid', 'EarthLand', 1955, 'salywaly', 1996, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,c4,Be2,Bd7,O-O,f6,Re1,fxe5,Nxe5,Nxe5,dxe5,O-O-O,Be3,Qxb2,Nd2,Kb8,Rb1,Qxc3,Bf3,Bc6,Ne4,Qa5,Nd6,Bxd6,exd6,Nf6,Bd2,c3,Be3,Ba4,Qd4,Nd7,Rb4,Rc8,Rxa4,Qb6,Qxg7,Qb5,Rb4,Qc6,Reb1,b6,Be2,c2,Rc1,Qxd6,Ba6,Rhg8,Qf7,Rcf8,Qh5,Nf6,Qh4,Qc6,Bf4+,Ka8,Be5,Nd7,Bd4,e5,Be3,d4,Bh6,Qd5,Bxf8', 'Qxg2#', 'https://lichess.org/training/nUWRQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NuwwQ', 'Rapid', 'Danilo51', 1830, 'xxxxxxxm', 1787, 'd4,e6,c4,d5,Nc3,Bb4,Qa4+,Nc6,cxd5,exd5,e4,Bxc3+,bxc3,dxe4,Be3,Bd7,d5,Ne5,Qxe4,Qe7,Bd4,f6,Bxe5,Qxe5,Qxe5+,fxe5,Nf3,Nf6,Nxe5,Nxd5,c4,Nf6,Be2,O-O-O,O-O,Rhe8,f4,Bg4', 'Bxg4+,Nxg4,Nxg4', 'https://lichess.org/training/NuwwQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nuyR0', 'Rapid', 'Samehalibahameash', 1642, 'Rami2', 1656, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,e3,Bb4,Bd2,O-O,Bd3,Bxc3,Bxc3,Ne4,Ne2,Nc6,O-O,Re8,f3,Nxc3,Nxc3,Rxe3,Qd2,Qg5,f4,Rxd3,Qxd3,Qf6,Rad1,Bf5,Nxd5,Qe6,Nxc7', 'Bxd3,Nxe6,Bxf1', 'https://lichess.org/training/nuyR0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nV1VH', 'Rapid', 'mazamir', 1937, 'twistedsnake', 2006, 'd4,d5,c4,dxc4,e3,e5,Bxc4,exd4,exd4,c5,d5,Nf6,Nf3,a6,a3,b5,Ba2,c4,Nc3,Bc5,O-O,Bg4,Re1+,Be7,b4,O-O,Bb2,Nbd7', 'd6,Bxd6,Qxd6', 'https://lichess.org/training/nV1VH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nv33i', 'Blitz', 'HannaQaabar', 1635, 'tokeryu', 1634, 'e4,d6,d4,Nd7,Nc3,g6,Nf3,Bg7,Bc4,e5,d5,Ngf6,Bg5,O-O,Qd2,c6,Bh6,Qb6,Bxg7,Kxg7,b3,Nc5,dxc6,Ncxe4,Nxe4,Nxe4,Qe2,Bf5,cxb7,Rab8,Bd3,Qxb7,Bxe4,Bxe4,O-O-O,Qb4,Kb1,Rbc8,Rd2,a5,Ng5,Bf5,g4,Be6,Nxe6+,fxe6,h4,a4,Rc1,a3,c3,Rxc3,Rxc3,Qxc3,Rxd6,Rc8,Rd7+,Kf6', 'g5+,Kf5,Rf7#', 'https://lichess.org/training/Nv33i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nv6KB', 'Classical', 'klinger12', 1805, 'kenybigfoot', 1713, 'e4,e6,d4,d5,Nc3,Bb4,Bd3,dxe4,Bxe4,Bxc3+,bxc3,Nf6,Bf3,Nc6,Ba3,Ne7,Rb1,c6,Ne2,O-O,O-O,Re8,c4,Qa5,Qd3,Qg5,Nc3,Rb8,Bxe7,Rxe7,Bxc6,Rc7,Bf3,Bd7,Nb5,Bxb5,Rxb5,Qf4,Rfb1,b6,c5,Rd8,cxb6,axb6,Rxb6,Rcd7,c3,h6,Bc6,Re7,g3,Qc7,Rb7,Qd6,Rxe7,Qxe7,Rb7,Qd6,Bg2,e5,Qc4,Rf8,dxe5,Qxe5,h3,Qe6,Qxe6,fxe6,a4,Rd8,a5,Ra8,Rb5,Ra6,c4,Ne8,Bb7,Ra7,Ba6,Nc7,Rb8+,Kf7,Rb7,Rxa6,Rxc7+,Kf6,Rc5,e5,Kf1,Kf5,Ke2,Ke4,Rb5,Kd4,c5,Kc4,Rb6,Rxa5,c6,Rc5,Ke3,Kd5,h4,g5,c7,gxh4', 'Rb5,Rxb5,c8=Q', 'https://lichess.org/training/nv6KB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nv9QY', 'Classical', 'in10cd4us', 1806, 'swansness', 1852, 'e4,e6,d4,d5,exd5,exd5,a3,c5,Be3,cxd4,Bb5+,Bd7,Bxd7+,Nxd7,Bxd4,Ngf6,Nc3,Bc5,Nf3,O-O,O-O,Re8,Na4,Bxd4,Qxd4', 'Re4,Qd1,Rxa4', 'https://lichess.org/training/Nv9QY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nVB41', 'Blitz', 'ksa_fischer', 1809, 'OscarGangas', 1812, 'd4,g6,c4,Bg7,e3,d6,Nf3,a6,Be2,Nd7,Nc3,c6,O-O,Ngf6,Re1,O-O,h3,Rb8,Bd2,b5,b3,bxc4,Bxc4,d5,Bd3,Re8,e4,e5,exd5,exd4,Ne4,cxd5,Nxf6+,Nxf6,Nxd4,Ne4,Nc6,Qb6,Nxb8,Qxf2+,Kh1,Bxh3,Rg1,Qg3,Bxe4,Bxa1,Qxa1,dxe4,Bh6,Re5,Qd4,Bxg2+,Rxg2', 'Rh5+,Kg1,Qe1#', 'https://lichess.org/training/nVB41');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nvBmw', 'Blitz', 'Brondong', 1904, 'arquitekten', 1758, 'c4,e5,g3,d6,Bg2,c6,Nc3,Be6,d3,Be7,Nf3,Na6,O-O,Qd7,a3,Nf6,b4,Nc7,Bb2,O-O,Rc1,h6,Qd2,Nh7,Ne4,f5,Nc3,f4,e3,fxg3,fxg3,Bh3,Ne4,d5,cxd5,cxd5,Nxe5,Rxf1+,Rxf1,Qb5,Bxh3,dxe4,Ng6,Bg5,Be6+,Nxe6,d4,Rd8,h4,Bf6,d5,Bxb2,Qxb2,Rxd5,Ne7+,Kh8,Qc2,Rd7,Qc8+,Nef8,Rxf8+,Nxf8', 'Qxf8+,Kh7,Qg8#', 'https://lichess.org/training/nvBmw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nVcB4', 'Rapid', 'fraser22', 1993, 'Krapnikov', 2010, 'e4,c5,Bc4,Nc6,Ne2,e6,O-O,Nf6,Nbc3,Be7,d4,cxd4,Nxd4,O-O,Kh1,d5,exd5,exd5,Nxc6,bxc6,Bd3,Rb8,Be3,Rxb2,Bxa7,Qa5,Bd4,c5,Bxf6,Bxf6,Nxd5,Bd4,Bxh7+,Kxh7', 'Qh5+,Kg8,Ne7#', 'https://lichess.org/training/nVcB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NVCvF', 'Rapid', 'bookie65', 1604, 'SupposeTheyGiveWar', 1604, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,h6,Bh4,g5,Bg3,dxc4,e4,Bg7,Bxc4,O-O,Nf3,Bg4,Qc2,Bxf3,gxf3,Qxd4,b3,Nh5,Rc1,Nxg3,fxg3,Qe3+,Be2,Rd8,Nd1,Qd4,h4,Bf6,hxg5,Bxg5,f4,Bf6,Rxh6,Qg1+,Bf1,Qxg3+,Nf2,Qe3+,Be2,Qxf4,e5,Qxh6,exf6,Qxf6,Ng4,Qg6,Qc4,Kf8,Ne5,Qf6,Ng4,Qe6,Qc3,Ke8', 'Qh8+,Kd7,Rd1+', 'https://lichess.org/training/NVCvF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nvCwa', 'Rapid', 'amrt', 1691, 'MariusVintorez', 1712, 'e4,c5,f4,d6,Nf3,Nf6,e5,dxe5,fxe5,Nd5,c4,Nb6,d4,cxd4,Nxd4,Nc6,Be3,Nxd4,Bxd4,e6,Nc3,Bb4,a3,Be7,Bxb6,Qxb6,Rb1,O-O,b4,Qe3+,Ne2,Qxa3,Qc1,Bxb4+,Kf2,Bc5+,Ke1,Qxc1+,Rxc1,Bd7,Nc3,Bb4,Ke2,Bxc3,Rxc3,Rac8,Kf2,b5,c5,a5,Be2,b4,Rcc1,a4,Rhd1,Rfd8,c6,Be8', 'Rxd8,Rxd8,c7,Rc8,Ba6,Rxc7,Rxc7', 'https://lichess.org/training/nvCwa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NVCzX', 'Rapid', 'elias55', 1639, 'Felyj', 1911, 'd4,e6,c4,d5,Nc3,Nf6,e3,Be7,Nf3,O-O,Bd3,b6,O-O,c5,cxd5,Nxd5,Qc2,g6,e4,Nb4,Qd2,Nxd3,Qxd3,a5,Bh6,Ba6,Qe3,Re8,Rfd1,Nc6,d5,exd5,Nxd5,Qc8,Nxb6,Qg4,Nxa8,Rxa8,Bf4,Nb4,Rd2,Nd3,Ne5,Qxf4,Nxd3,Qh4,Nxc5,Bg5,f4', 'Bxf4,Qh3,Qxh3', 'https://lichess.org/training/NVCzX');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 25;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet26 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NVE7G', 'Blitz', 'NM oberschlumpf', 2298, 'VISHAL99', 2216, 'd4,e5,dxe5,d6,exd6,Bxd6,Nd2,Nf6,Nc4,O-O,Nxd6,cxd6,Nf3,h6,e3,Nc6,Be2,Bf5,O-O,Rc8,c3,Ne5,Nd4,Bg6,Bd2,a6,b3,Nc6,c4,d5,Nxc6,bxc6,cxd5,Qxd5,Bb4,Qxd1,Rfxd1,c5,Ba3,a5,Rac1,Ne4,Bf3,f5,Bxe4,fxe4,Rxc5,Rcd8,Rcc1,Rxd1+,Rxd1,Rc8,Rc1,Rd8,Bc5,Rd2,a3,Rb2,b4,a4,g3,Bh5,h3,Bf3,g4,Kf7,Rc3,g5,Rc1,Ke6,b5,Rxb5,Bb4,Rd5,Rc6+,Kf7,Rxh6,Rd1+,Kh2,Rh1+,Kg3,Rg1+,Kh2,Rg2+,Kh1,Rxg4+,Kh2,Rg2+,Kh1,Rxf2+,Kg1,Rg2+,Kf1,Rc2,Ra6', 'Be2+,Ke1,Bxa6', 'https://lichess.org/training/NVE7G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NveBW', 'Rapid', 'loudjine', 1663, 'deepakguptacse', 1665, 'e4,d6,Nf3,Nd7,Bc4,e6,d4,Ngf6,Bg5,Be7,e5,d5,exf6,Nxf6,Bb3,b6,c4,Ba6,Ba4+,Nd7,Bxe7,Qxe7,Ne5,Rd8,Nc6,Qd6,Nxd8,Qb4+,Nc3,Kxd8,cxd5,exd5,Bxd7,Kxd7,Qg4+,Kc6,O-O-O,Kb7,Nxd5,Qc4+,Nc3,b5,Qf3+,Kb8,Kb1,Bb7,d5,b4,Qe4,Qa6,Qxb4,Ka8,Nb5,Qb6,Rc1,Rc8,d6,c6,Nc7+,Kb8,Qxb6,axb6,d7,Rd8,Na6+,Bxa6,Rxc6,Kb7,Rc8,Rxd7,Rh8,h6,Rh7,Bd3+,Kc1,f6,Rd1', 'Rc7+,Kd2,Bxh7', 'https://lichess.org/training/NveBW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NvfXr', 'Classical', 'Ableplanner', 1753, 'dawidu92', 1797, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Nd7,Be3,Qb6,Bc1,c5,c3,cxd4,cxd4,Ne7,Nc3,Nf5,Nxd5,Qa5+,Nc3,Bb4,O-O,Rd8,Qc2,f6,exf6,Nxf6,Rd1,O-O,Bf4,Nxd4,Nxd4,e5,Bxe5,Qxe5,Qb3+,Nd5,Nxd5,Rxd5,Qxb4,Qf4,Nc2,Qxf2+,Kh1', 'Rxd1+,Rxd1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/NvfXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NVHV2', 'Rapid', 'Yashad_Bambeshwar', 1783, 'smsalah', 1856, 'e4,c5,Nf3,b6,d4,d6,c4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,Be7,Be3,Bb7,Nd5,Nxe4,Bd3,Bxd5,cxd5,Nf6,h4,Nbd7,Rc1,Rc8,Rxc8,Qxc8,Bd2,Qc5,Qa4,a5,Bb5,O-O,Bg5,Qb4+', 'Qxb4,axb4,Bxd7', 'https://lichess.org/training/NVHV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NViB5', 'Rapid', 'yuvalb144', 2106, 'M1122334455', 1954, 'e4,c6,d4,d5,f3,dxe4,fxe4,Nf6,Nc3,e6,Nf3,Bb4,a3,Bxc3+,bxc3,Nxe4,Bd3,Nxc3,Qd2,Nd5,c4,Nf6,O-O,O-O,Qc2,Nbd7,Bg5,h6,Bh4,Re8,Ne5,Qc7,Nxd7,Qxd7,Bxf6,gxf6,Rxf6,Qxd4+,Rf2,e5,Rf1,e4,Be2,Bf5,Qc1,Kg7,Kh1,Bg6,Qf4,Re6,Bg4,Rd6,Bf5,Rf6,Qg4,Qxc4,Bxg6', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/NViB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nviEr', 'Rapid', 'JMox', 1625, 'paypo1230', 1632, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,h3,Bd6,Nf3,O-O,Bg5,c6,Bd3,Re8+,Ne2,Nbd7,O-O,Qc7,Rb1,Ne4,Bh4,Nb6,Ng3,Nxg3,Bxg3,Bxg3,fxg3,Qxg3,Ne5,f6,Rf3,Qh4,Ng4,Bxg4,hxg4,Qxg4,Qd2,Rad8,Rbf1,Nd7,Bf5,Qg5,Qd3,Nf8,Rg3,Qh5,Rh3,Qf7,Bxh7+,Nxh7,Qxh7+,Kf8,Qh8+,Qg8,Rxf6+,gxf6', 'Qxf6+,Qf7,Rh8#', 'https://lichess.org/training/nviEr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nvIlf', 'Rapid', 'sharkema', 1676, 'matabichos26', 1745, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nf3,Be7,O-O,Be6,Nd5,Nxe4,Nxe7,Qxe7,Nd2,Nf6,h3,O-O,Nc4,Rd8,Bg5,h6,Bh4,b5,Ne3,d5,Ng4,g5', 'Nxh6+,Kg7,Bxg5', 'https://lichess.org/training/nvIlf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NvJHB', 'Rapid', 'mistakeman', 1724, 'ignaces', 1651, 'Nf3,d5,d4,Nc6,Bg5,f6,Bh4,g5,Nxg5,fxg5,Bxg5,h6,Bh4,Bg7,e3,Bf6,Qh5+,Kf8,Bd3,Bxh4,Qxh4,e6,Qf4+,Qf6,Qxc7,Nge7,Nd2,Nb4,Be2,Rg8,Bf3,Qg6,O-O,Nxc2,Rac1,Nb4,a3,Nd3,Rb1,e5,Bxd5,Rg7,Qd8+,Qe8,Qd6,Qg6,Qd8+,Qe8,Qa5,b6,Qc3,Qg6,Bxa8,Bh3,g3,Bxf1,Rxf1,e4,Bxe4,Qg5,Bxd3,h5,Ne4,Qh6,Qc7,h4,Qd8+,Kf7,Bc4+,Kg6,gxh4,Kf5+,Kh1,Kxe4,Qa8+,Kf5,Qf3+,Kg6,Rg1+,Kh7,Bd3+,Kh8,Qf8+,Ng8,Rc1', 'Rg1+,Kxg1,Qxf8', 'https://lichess.org/training/NvJHB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NVKuW', 'Blitz', 'Jiji33', 1963, 'twheen', 1984, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,Nxd4,Bd7,Nc3,Nc6,Be3,Bf6,f4,Nge7,Qd2,Nxd4,Bxd4,Nc6,Be3,Bxc3,Qxc3,Qf6,Qb3,O-O-O,Bd5,Kb8,O-O-O,Be6,g3,Bxd5,Rxd5,Rhe8,Rb5,Rxe4,Rxb7+,Kc8,Bxa7,Nxa7,Rxa7,Qd4,Qb7+,Kd7,Qxc7+,Ke6,Qxd8', 'Qe3+,Kb1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/NVKuW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nvmg1', 'Blitz', 'Orguim', 1835, 'Zubatka', 1863, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,a6,c4,Bd7,Nc3,Nc6,Be3,Rc8,Be2,g6,g4,Bg7,h4,O-O,h5,Qb6,Qd2,Nxg4,Nf5,Nxe3,Nxe3,Ne5,h6,Bf6,Ned5,Qd8,Nxf6+,exf6,Qxd6,Nxc4,Bxc4,Rxc4,Rd1,Rc7,Nd5,Rc2,Nxf6+,Kh8,Nxd7,Qa5+,Kf1,Qb5+,Kg1', 'Qg5+,Kf1,Qg2+,Ke1,Qxh1#', 'https://lichess.org/training/Nvmg1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nVMZ0', 'Rapid', 'RKOJHA', 2086, 'Artwell', 1944, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Bd3,d5,exd5,Nxd5,Nxd5,Qxd5,O-O,Be7,Re1,O-O,Qd2,Nxd4,Bxd4,g6,Be4,Qb5,Qh6,e5,a4,Qa5,Bxg6,hxg6,Rxe5,Qb4,Qh8+,Kxh8', 'Rh5+,Kg8,Rh8#', 'https://lichess.org/training/nVMZ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nvnke', 'Classical', 'COPHIS', 1819, 'Mr-Hola', 1952, 'e4,d6,d4,g6,Bc4,Bg7,Nf3,Nf6,Nc3,O-O,O-O,c5,d5,e6,Bg5,exd5,Nxd5,h6,Nxf6+,Bxf6,Bxf6,Qxf6,c3,Nc6,Qd2,Qg7,Qxd6,Bg4,Nh4,Ne5,Bd5,g5,Nf5,Bxf5,exf5,Rfd8,f6', 'Rxd6,fxg7,Rxd5', 'https://lichess.org/training/nvnke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nVoAW', 'Rapid', 'newmepart12', 1779, 'lhsxlsh123', 1778, 'd4,Nf6,c4,d5,Nc3,Nc6,cxd5,Nxd5,e4,Nxc3,bxc3,e6,Bb5,Bd7,a4,a6,Bd3,Be7,Nf3,O-O,O-O,Na5,Re1,f6,e5,f5,Bd2,Nc6,Qe2,a5,Reb1,b6,Ne1,g6,Bh6,Rf7,Bc4,Bg5,Bxg5,Qxg5,d5,Nd8,Nf3,Qe7,Nd4,Kh8,Nb5,Bxb5,axb5,Rf8,Qf3,Rc8,Rd1,Qc5,dxe6,Qxc4,e7,Re8,exd8=Q,Rcxd8,Rxd8,Rxd8,Re1,Qxb5,e6,Re8,e7,Rxe7', 'Qa8+,Qe8,Qxe8+,Rxe8,Rxe8+', 'https://lichess.org/training/nVoAW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nVpGY', 'Rapid', 'lander', 1878, 'quercusilex', 1745, 'e4,e5,Nf3,d6,Bc4,Qf6,Ng5,Qxg5,d4,Qf6,h4,Bd7,Bg5,Qg6,dxe5,dxe5,Qd5,Nc6,Nc3,f6,Nb5,O-O-O,Be3,a6,Na7+,Nxa7,Bxa7,Bc6,Qe6+,Bd7,Qd5,Bc6,Qe6+,Rd7,O-O,Qxe4', 'Qe8+,Rd8,Be6+,Bd7,Bxd7#', 'https://lichess.org/training/nVpGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NVQdX', 'Rapid', 'mrarjmand0', 1784, 'narcos123', 1776, 'e4,e6,Nc3,Nf6,Nf3,d5,exd5,exd5,d4,Bg4,Be2,c6,O-O,h6,Be3,Bd6,Re1,O-O,Ne5,Bxe2,Qxe2,Nbd7,Bf4,Bc7,Qf3,Nxe5,dxe5,Nd7,e6,fxe6,Qg3,Bxf4,Qg4,e5,g3,Bd2,Re2,Bxc3,bxc3,e4,c4,Nf6,Qe6+,Kh8,cxd5,cxd5,c4,dxc4,Qxc4,Qb6,Rae1,Rac8,Qa4,Qc6,Qxa7,Ra8,Qe3,Rfe8,Qf4,Nd5,Qf7,Nc3,Rc2,Rf8,Qb3,Rac8,Re3,Rf3,Rexc3', 'Rxc3,Rxc3,Qxc3', 'https://lichess.org/training/NVQdX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NVrsI', 'Rapid', 'santaiaja', 1639, 'gilzzza', 1769, 'e4,e5,Bc4,Bc5,Nf3,Nc6,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O,d5,exd5,Nxd5,Nb3,Bg4,Be2,Re8,Re1,Nf4,Qd2,Nxe2+,Rxe2,Bxf3,Rxe8+,Qxe8,gxf3,Qd7,Re1,Re8,Rxe8+,Qxe8,Qe3,Kf8,Nc5,b6,Na6,Qe7,Qxe7+,Kxe7,d5,Ne5,Kg2,c6,dxc6,Nxc6,f4,f5,Kf3,Nd4+,Ke3,Nc6,Nc7,g6,Nb5,a6,Nc3,Kd6,a3,Na5,Kd3,Kc5', 'b4+,Kc6,bxa5', 'https://lichess.org/training/NVrsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nvS58', 'Rapid', 'insufflation', 1711, 'SirOchsen', 1688, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Bf5,Nf3,Nf6,Bd2,c6,Ne4,Qc7,Nxf6+,exf6,Bc4,Be7,O-O,O-O,Re1,Re8,Qe2,Nd7,Bb3,Bg4,Qc4,Be6,Rxe6,fxe6,Qxe6+,Kh8,Re1,Bb4', 'Qxe8+,Rxe8,Rxe8+', 'https://lichess.org/training/nvS58');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nVS5W', 'Rapid', 'IvanKomsic_BiH_97', 1695, 'JHAA', 1603, 'd4,e6,c4,c5,d5,exd5,cxd5,d6,Nf3,Nf6,g3,Nbd7,Bg2,b6,O-O,Bb7,Nc3,Be7,a3,O-O,Rb1,Re8,b4,Rb8,Qa4,a6,b5,axb5,Qxb5,Nxd5,Nxd5,Bxd5,Bb2,Bxf3,Bxf3,Ne5,Bxe5,dxe5,Bc6,Rf8,Rfd1,Bd6,Rd2,Qe7,Rbd1,Rfd8,Qd3,Qc7,Be4,g6,h4,f5,Bd5+,Kg7,Bg2,c4,Qd5,c3,Rd3,c2,Rc1,b5,Qc6,Qxc6,Bxc6,Bxa3,Rxd8,Bxc1,Rxb8,Ba3,Rb7+,Kh6,Bxb5,c1=Q+,Kg2,e4,Ba4,Qc5,Bb3,Qd6,Bg8,g5,Rxh7+,Kg6,hxg5,Kxg5,Rg7+,Kf6,Rf7+,Ke5,f4+,Kd4,Rxf5,Qg6,Rd5+,Kc3,Rg5,Qb6,Bd5,e3,Re5,Qd4,Kf3,Kd2,Bc6,Bc5', 'Rd5,Kc3,Rxd4', 'https://lichess.org/training/nVS5W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nvt3u', 'Rapid', 'marceus', 1826, 'Clyders42', 1804, 'e4,c5,Nc3,Nc6,g3,Nf6,Bg2,g6,Nge2,Bg7,d4,cxd4,Nxd4,d6,O-O,Nxd4,Qxd4,O-O,Be3,Ng4,Qd2,Nxe3,Qxe3,a6,Rab1,Be6,e5,Bxe5,Bxb7,Rb8,Bxa6,Qc7,Be2,Bxc3,Qxc3,Qxc3,bxc3,Bxa2,Ra1,Be6,Ra7,Rfe8,f4,Kg7,Rc7,Rbc8,Rxc8,Rxc8,Rf3,Bc4,Bxc4,Rxc4,Kf2,Kf6,Ke2,Kf5,Kd3,Rc5,Re3,e6,Re1,Kg4,Re2,Kf3,Re3+,Kg2,Re2+,Kh3,Kd4,Kg4,c4,Kf3,Re3+,Kf2,Rd3,Rh5,Rd2+,Kf3,Rd3+,Kg4,h4,Rc5,c3,Ra5,Re3,Ra1,c5,dxc5+,Kxc5,Rg1,Kd6,Rxg3', 'Rxg3+,Kxg3,c4,Kxf4,c5,e5,c6,e4,c7,e3,c8=Q', 'https://lichess.org/training/nvt3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nVT7o', 'Rapid', 'kishinmas', 1681, 'racingcbaII', 1634, 'c3,e5,d4,e4,Bf4,d5,f3,h6,fxe4,dxe4,e3,g5,Be5,f6,Qh5+,Ke7,Bg3,Qe8,Qe2,Kd8,Qc4,Qc6,Nd2,Be6,Qxc6,Nxc6,Nxe4,Bd5,Bd3,Bxe4,Bxe4,Kd7,O-O-O,Bd6,Bxc6+,Kxc6,Bxd6,Kxd6,Nf3,Ne7,e4,Kd7,e5,Ke6,Rde1,Rhe8,exf6+,Kxf6,g4,Nd5,h4,Nf4,hxg5+,Kg6,gxh6,Nd3+,Kd2,Nxe1,Nxe1,Rh8,Nf3,Raf8,Ke3,Rxh6,Ne5+,Kg5,Nf3+', 'Rxf3+,Kxf3,Rxh1', 'https://lichess.org/training/nVT7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NvUov', 'Rapid', 'KingSethos', 1659, 'Knightrider3508', 1713, 'Nc3,f5,Nf3,Nf6,e3,g6,d4,Bg7,a3,O-O,Bc4+,Kh8,Ng5,d5,Ba2,h6,Nf3,c6,O-O,Ne4,Bd2,Nd7,Nh4,Qe8,f4,Ndf6,Nxe4,Nxe4,c4,e6,Bb4,Rg8,Rc1,Bf6,Nf3,g5,Ne5,gxf4,exf4,Bxe5,fxe5,Qg6,Qe2,Bd7,cxd5,exd5,Rf4,Raf8,Rcf1,Rf7,Rxe4', 'fxe4,Rxf7,Qxf7', 'https://lichess.org/training/NvUov');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NvVbF', 'Blitz', 'IM lareinedesneiges', 2534, 'Ilia-parvini', 1769, 'e4,e5,Nf3,Nc6,Nc3,Nf6,g3,Bc5,Bg2,d6,d3,Bg4,h3,Bh5,Be3,Bb6,O-O,Nd4,Bxd4,Bxd4,Ne2,Bb6,Kh2,Qd7,Nh4,Rb8,a4,Bd4,c3,Bb6,a5,Bc5,b4,Qb5,bxc5,Qxc5,Nf5,O-O,f4,exf4,Rxf4,Bxe2,Qxe2,Qxc3,Raf1,Rfe8,R4f2,d5,Qe3,dxe4,Qg5,Nd5,Nh6+,Kh8,Nxf7+,Kg8,Qxd5,exd3,Nh6+,Kh8,Qg8+,Rxg8', 'Nf7#', 'https://lichess.org/training/NvVbF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nVVIu', 'Rapid', 'james59', 1764, 'darksun1', 1760, 'e4,e6,d3,Nc6,c3,d5,exd5,Qxd5,Be2,Qxg2,Bf3,Qg6,Bxc6+,bxc6,Qf3,Bb7,Ne2,Rb8,Qg3,Qf5', 'Qxc7,Rd8,Qxb7', 'https://lichess.org/training/nVVIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nvvj5', 'Rapid', 'adria2003', 2112, 'jeantomasia', 2227, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Bb4,Qc2,h6,Bh4,c6,e3,g5,Bg3,Ne4,Be5,f6,Bg3,Qa5,Rc1,Qxa2,Bd3,Bf5,Ne2,Nxg3,Bxf5,Nxh1,Bg6+,Kd8,Qf5,Nd7,Qe6,Qxb2,Bf5,Nb6', 'Qxf6+,Be7,Qxh8+', 'https://lichess.org/training/Nvvj5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NVwm4', 'Blitz', 'TimePassOnly', 2176, 'RublevskyNT', 2375, 'g3,c6,Bg2,g6,Nf3,Bg7,O-O,d6,d4,Nd7,c4,Nh6,Nc3,O-O,Bg5,f6,Bf4,Nf7,e4,e5,dxe5,fxe5,Be3,Nb6,b3,Qc7,Rc1,a5,c5,Nd7,cxd6,Nxd6,Na4,Nxe4,Re1,b5,Qc2,bxa4,Qxe4,axb3,axb3,Bb7,Qc4+,Kh8,Red1,Nb6,Bxb6,Qxb6,Rd7,c5,Rxb7,Qxb7,Nxe5,Qb4,Nf7+,Rxf7,Qxf7,Rf8,Qc4,Qd2,Rf1,Bd4,Qc1,Bxf2+,Kh1,Qa2', 'Qc3+,Bd4,Rxf8+,Kg7,Qf3', 'https://lichess.org/training/NVwm4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NvwVw', 'Blitz', 'dinesh58', 1514, 'sbtr1', 1503, 'e4,c5,Nf3,d6,Bc4,Nf6,h3,Nxe4,d4,cxd4,Nxd4,Nc5,Qf3,e6,Nc3,Be7,Qg3,O-O,Bh6,Bf6,Nf3,Nc6,Rd1,d5,Bd3,Nxd3+,cxd3,Nd4,Nxd4,Bxd4,Ne2,Qa5+,Kf1,Bf6,Nf4,Kh8,Nh5,Qd8', 'Bxg7+,Bxg7,Qxg7#', 'https://lichess.org/training/NvwVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nVwwH', 'Classical', 'ballcat', 1743, 'gaoxiang', 1751, 'g3,e5,Bg2,d5,d3,Bf5,Nd2,Nc6,e4,dxe4,Nxe4,Bxe4,Bxe4,Nf6,Bg5,Be7,Bxf6,Bxf6,Qf3,Nd4,Qd1,c6,c3,Ne6,Qh5,Ng5,Bg2,O-O,O-O-O,Qa5,Kb1,g6,Qg4,Ne6,h4,Nc5,Ne2,Na4,Be4,Qb6,b3,Nc5,h5,Nxe4,hxg6,fxg6,Qe6+,Kg7,dxe4,Rae8', 'Rd7+,Re7,Rxe7+', 'https://lichess.org/training/nVwwH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NVz99', 'Rapid', 'Homan_2h', 1857, 'WimVoet', 1851, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nbd2,Qe7,e4,Ngxe5,Be2,d6,O-O,O-O,a3,Bxd2,Qxd2,Be6,b3,Rad8,Qc3,Bg4,Nxe5,Nxe5,Bxe5,Bxe2,Bxg7,Bxf1,Qg3,Qxe4,Kxf1,Qg6,Qxg6,fxg6,Bxf8,Kxf8,Re1,Re8,g4,Rxe1+,Kxe1,Kf7,Ke2,Ke6,Ke3,c6,h4,b6,f4,d5,cxd5+,Kxd5,g5,a6,f5,gxf5,h5,Ke5,h6,Ke6', 'g6,hxg6,h7', 'https://lichess.org/training/NVz99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nW01A', 'Rapid', 'hamed00', 1812, 'mustanco', 1813, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,d6,d4,cxd4,Nxd4,a6,Nxc6,bxc6,Bf4,d5,exd5,cxd5,Bd3,Bb4,O-O,Bxc3,bxc3,Ne7,Rb1,O-O,Re1,Bd7,Re3,Bb5,Rh3,Bxd3,cxd3,Nf5,Qh5,h6,g4', 'g6,gxf5,gxh5', 'https://lichess.org/training/nW01A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nW1jx', 'Classical', 'Russell2203', 1683, 'JUAMPE29', 1665, 'e4,e5,Qh5,Nc6,Bc4,Qe7,c3,Nf6,Qf3,d6,h3,Be6,Na3,Bxc4,Nxc4,Qe6,b3,Be7,Ne2,O-O,O-O,d5,exd5,Nxd5,Ne3,Nf6,c4,e4,Qf5,Qd6,Bb2,Qxd2,Bxf6,Bxf6,Ng3,Bxa1,Qxe4,Bd4,Rd1,Qxa2,Rxd4,Nxd4,Qxd4,Qxb3,Nef5,f6,Qd5+,Rf7,Ne7+,Kf8,Ngf5,Rxe7,Nxe7,Kxe7,Qc5+,Kd7,Qf5+,Kc6', 'Qd5+,Kb6,c5+,Kb5,Qxb3+', 'https://lichess.org/training/nW1jx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nW3nY', 'Rapid', 'BANIAR', 1982, 'asarlak', 1910, 'e4,e5,f4,d6,Nf3,Bg4,Bc4,Nc6,c3,Nf6,Qb3,Qd7,d3,Bxf3,gxf3,Rb8,Be3,g6,Nd2,Bg7,h4,O-O,h5,Na5,Qc2,Nxc4,dxc4,a6,O-O-O,exf4,Bxf4,Nxh5,Rxh5,gxh5,Rh1,f5,Rxh5,Rf7,exf5,Rbf8,Bh6,Rxf5,Rh3,Bxh6,Rxh6,Qg7,Rh1,Qg2,Qd1,Re8', 'Rg1,Re2,Rxg2+', 'https://lichess.org/training/nW3nY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nw5H7', 'Rapid', 'adrianquilmes', 1873, 'Monsterwasp', 1903, 'd4,Nf6,e3,e6,Nf3,d5,Nbd2,c5,c3,Be7,Bd3,O-O,O-O,Nc6,Qc2,a6,a4,b6,Ng5,h6,Nh7,Nxh7,Bxh7+,Kh8,Bd3,Bb7,Be2,cxd4,cxd4,Rc8,Qd1,Nb4,Nf3,Bf6,Bd2,Qd6,b3,a5,Rb1,Ba6', 'Bxb4,Bxe2,Bxd6', 'https://lichess.org/training/Nw5H7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nw6bz', 'Rapid', 'bebaslah', 1823, 'zolight', 1792, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Nxe5,Nxe5,Qe7,cxd4,d6,Qe2,dxe5,dxe5,Nd5,Nc3,Nxc3,bxc3,g6,g3,Bg7,Bf4,O-O,Bg2,c6,O-O,Re8,Rfe1,Be6,a3,Rad8,Rab1,Qxa3,Ra1,Qxc3,Rxa7,Bd5,Bxd5,Rxd5,Rxb7,Bxe5,Rbb1,Qc5,Qa6,Rdd8,Bxe5,Rxe5,Rxe5,Qxe5,Qxc6,Rd2,Qf3,Kg7,Rb7,Qe6', 'Qc3+,Qf6,Qxd2', 'https://lichess.org/training/nw6bz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nw73Q', 'Rapid', 'ashokramamurthy', 1806, 'BaoZiMan', 1770, 'f4,Nf6,Kf2,Nc6,h3,e5,d3,Bc5+,e3,O-O,g3,e4,d4,Bb4,c3,Be7,b4,Nd5,Kg2,Rb8,Nd2,f5,Qb3,Kh8,Qxd5,d6,Ba3,Bf6,Qb3,Re8,d5,Ne7,Rc1,c6,c4,b5,dxc6,Nxc6,cxb5,Be6,Qa4,Ne7,Ne2,Nd5,Qxa7,Nxe3+,Kh2,Nd5,Qf2', 'e3,Qe1,exd2', 'https://lichess.org/training/nw73Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NW81G', 'Rapid', 'husamsharaf', 1795, 'Grbovichess', 1846, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,O-O,Bg4,c3,a5,d4,exd4,cxd4,Bxd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/NW81G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NW94m', 'Blitz', 'Titandelmundo', 2303, 'FM chessbraht', 2354, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,Na5,Bd3,d6,h3,Nf6,O-O,O-O,Re1,c6,Nbd2,Re8,Nf1,Bf8,Ng3,g6,Bg5,Bg7,Qd2,Qc7,Bh6,Bh8,Qg5,Qe7,Nf5,Bxf5,exf5,Nh5,dxe5,Qxg5,Bxg5,dxe5,fxg6,hxg6,g4,Nf4,Bf1,e4,Nd4,Nd5,Bd2,Nb6,Rab1,Nac4,Bc1,Re7,Rb4,Bxd4,cxd4,Nd6,Ba3,Rd7,Bg2,Rad8,Bxe4,Nb5,Bb2,Nxd4,Kg2,Ne6,Bf6,Re8,Bc2,Nf4+,Rxf4,Rxe1,Bb3,Nd5,Bxd5,Rxd5,g5,Re8', 'Rh4,Rxg5+,Bxg5', 'https://lichess.org/training/NW94m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nW98M', 'Rapid', 'aliahmadi4343', 1766, 'Berly36', 1784, 'e3,e6,d3,d5,Bd2,Nf6,Nf3,Bd6,Be2,c5,h3,e5,a3,O-O,Nc3,Be6,Nh2,d4,Ne4,Nxe4,dxe4,b5,Ng4,c4,exd4,exd4,e5,Be7,Bf4,Nc6,Bf3,Rc8,O-O,d3,cxd3,cxd3,Rc1,Nd4,Qxd3,Nxf3+,Qxf3,Bd5,Rxc8,Qxc8,Qg3,f5,exf6,Bxf6,Nxf6+,Rxf6,Rc1,Qe6,Qe3,Qf5,g3,Qxh3,f3,h6,Rd1,Re6,Qf2,Bc4,Rd8+,Kh7,Rd1', 'Re2,g4,Rxf2', 'https://lichess.org/training/nW98M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nw9Bj', 'Rapid', 'D0NB4N3', 1691, 'maverickzw', 1660, 'd4,d6,c4,g6,Nc3,Bg7,Bf4,Nf6,e3,O-O,Nf3,Nbd7,Bd3,b6,e4,Bb7,e5,dxe5,dxe5,Ng4,e6,fxe6,Bg3,Bxf3,gxf3,Nge5,Be4,Rb8,Nb5,a6,Nd4,Nxc4,Nxe6,Qc8,Nxg7,Nd6,Ne6,Rf7,Ng5,Rf8,Bd5+,Kg7,Be5+,Nf6,Ne6+,Kh8,Nxf8,Qxf8,Qd2,Nf5,Be6,Nh4,O-O-O,Nxf3,Qd3,Nxe5,Qxa6,Neg4,Bxg4,Nxg4,Rd7,c5,Qd3,Nxf2,Qc3+,Kg8,Re1,Qf4+,Kb1,Qf5+,Ka1,Qxd7,Qc4+,Kf8', 'Qf4+,Ke8,Qxb8+', 'https://lichess.org/training/Nw9Bj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nwan6', 'Rapid', 'guerreroverde', 1983, 'SirLase', 1968, 'e4,e6,Nf3,c5,Nc3,Nc6,Be2,Nf6,d3,h6,O-O,g5,e5,Ng4,Nxg5,Nxh2,Nxf7,Kxf7,Kxh2,Qh4+,Kg1,Nxe5,Ne4,d5,Ng3,Bd6,Bh5+,Ke7,Re1,Bd7,c3,Rag8,d4,cxd4,cxd4,Ng4', 'Nf5+,Kd8,Nxh4', 'https://lichess.org/training/Nwan6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwc4Y', 'Rapid', 'ONIXVEGAlta1635', 1746, 'AMACTASTIC', 1697, 'd4,d6,e3,e5,g3,Nc6,Bg2,Nf6,d5,Ne7,c4,Bd7,Nf3,c6,Ng5,cxd5,cxd5,Bb5,Qb3,Ba6,Nc3,h6,Nge4,Nxe4,Nxe4,f5,Nc3,g6,Bd2,Bg7,Qa4+,Kf7,e4,Bd3,exf5,gxf5,Qd1,Qb6,Na4,Qd4,Be3,Qb4+,Bd2,Qd4,Bc3,Qc4,Rc1,Qa6,Qh5+,Ng6,Bh3,Qxa4,Bxf5,Bxf5,Qxf5+,Bf6,Qe6+,Kg7,O-O,Qa6,b4,Rhe8,Qf5,Qxa2,Qd7+,Re7,Qxd6,Rae8,b5,b6,Bb4,Nf8,Qc6,Rd7', 'Bxf8+,Rxf8,Qxd7+', 'https://lichess.org/training/nwc4Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWcQ2', 'Classical', 'maxvirga', 1883, 'kam49', 1847, 'd4,d5,e3,Nf6,Bd3,Bg4,f3,Bd7,Ne2,e6,O-O,c5,c3,c4,Bc2,Bd6,Nd2,Qc7,f4,O-O,Nf3,Ne4,Ne5,f6,Nxd7,Nxd7,Bxe4,dxe4,Ng3,f5,Nh5,Nf6,h3,Nxh5,Qxh5,Rf6,Qe2,b5,a3,Raf8,Bd2,Rh6,Kh2,Be7,Rac1,Rg6,Be1,Qd8,a4,a6,axb5,axb5,Ra1,Bh4,Bf2,Bxf2,Qxf2,Rh6,Ra7,Rf7,Rfa1,Rxa7,Rxa7,Qb8,Ra1,Rf6,Kg1,Rf7,Qe1,Rb7,Ra6,Kf7,Qa1,b4,Ra8,Qc7,Kf2,bxc3,bxc3,Qb6,Kg3,Qb2,Qa4,Re7,Qa5,Qe2,Qd8,Qxe3+,Kh2,Qxf4+,Kh1,Qg5,d5,Kg6,d6,Rb7,Qe8+,Kh6,Qxe6+,g6,Ra1,Rb2,Rg1,Rd2,Qe7,e3,Qf8+,Kh5,Qh8,h6,Qe5,e2,g4+,fxg4', 'hxg4+,Kh4,Qh2#', 'https://lichess.org/training/NWcQ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NwCTS', 'Classical', 'Aynur2010', 1612, 'TBB-GHJ', 1630, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,Nf6,O-O,O-O,Be3,Bxe3,fxe3,d6,h3,Na5,Bb5,c6,Ba4,b5,Bb3,Nxb3,axb3,Be6,d4,exd4,exd4,b4,d5,bxc3,dxe6,cxb2,exf7+,Rxf7,Rb1,Nxe4,Rxb2,Qb6+,Kh2,d5,Ne5,Rxf1,Qxf1,Rf8', 'Qxf8+,Kxf8,Nd7+,Kf7,Nxb6', 'https://lichess.org/training/NwCTS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWdBr', 'Blitz', 'Victorchess666', 2230, 'FM ThePatrick27', 2568, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,c6,e3,Be7,Bd3,O-O,Nge2,Re8,O-O,Ne4,Bxe7,Qxe7,Bxe4,dxe4,d5,Bg4,h3,Bh5,Qc2,Nd7,Nf4,Bg6,dxc6,bxc6,Rfd1,Nf6,Nxg6,hxg6,Ne2,g5,Qxc6,Rac8,Qa4,g4,hxg4,Nxg4,Qd7,Qh4,Ng3,Nxf2,Kxf2,Rc2+,Rd2,Rd8,Qxd8+,Qxd8,Rxc2,Qf6+,Ke2,Qg5,Rc8+,Kh7,Rh1+,Kg6,Rc6+,f6,Rh3', 'Qb5+,Kf2,Qxc6', 'https://lichess.org/training/NWdBr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nwdq0', 'Blitz', 'Korenik2005', 2202, 'GM Lastpartisan', 2493, 'e4,c5,Nc3,Nc6,Bb5,g6,d3,Bg7,f4,Nd4,Bc4,d6,Nf3,Nf6,h3,O-O,O-O,Rb8,a4,a6,Nxd4,cxd4,Ne2,d5,exd5,Nxd5,Qe1,b5,axb5,axb5,Bb3,Bb7,Qg3,Ne3,Bxe3,dxe3,Qxe3,Bxb2,Rab1,Bf6,f5,Qd6,fxg6,hxg6,Rxf6,exf6,Nf4,Rfe8,Qg3,Qd4+,Kh1,Kg7,Rf1,Rh8,Bxf7,Kxf7,Qxg6+,Ke7,Re1+,Kd7', 'Qg7+,Kc6,Re6+', 'https://lichess.org/training/Nwdq0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWDxn', 'Classical', 'rinatUs', 1853, 'H-A-LL-I-B-U-R-T-O-N', 1984, 'e4,Nf6,Nc3,d5,e5,d4,Nce2,d3,cxd3,Nd5,Nc3,Nb6,b3,g6,Bb2,Bg7,f4,g5,fxg5,Bxe5,Nf3,Bg7,h3,Bf5,Qe2,O-O,g4,Bg6,h4,f6,h5,Be8,h6,Bh8,gxf6,Rxf6,g5,Rd6,O-O-O,a5,Rh4,Nc6,Nb5,a4,Nxd6,Qxd6,Bxh8,Kxh8,d4,Bf7,Ne5,Bxb3,axb3,Qa3+,Kb1,Nd5,Nxc6,axb3,Qe5+,Nf6,d5', 'Qa2+,Kc1,Qc2#', 'https://lichess.org/training/NWDxn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwEkH', 'Rapid', 'bd06', 2074, 'Scors0', 1943, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,Nc3,Be7,h3,O-O,Bf4,b6,Rad1,Nh5,Bh2,Bf6,e5,Be7,exd6,Bf6,Qg4,Qxg4,hxg4,Bxc3,gxh5,Bxb2,dxc7,Rfe8,Rd7,g6,h6,Bf6,Rfd1,Rac8,Bg3,Bg5,Kh2,Bxh6,Rd8,Bg5,Rxc8,Rxc8,Bd6,f5,Be5,Kf7,Rd7+', 'Ke6,Rxh7,Kxe5', 'https://lichess.org/training/nwEkH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nWF5p', 'Classical', 'sarojpawn111', 1837, 'khsaker', 1708, 'b4,e5,Bb2,d6,b5,b6,a4,a5,c4,c6,e3,cxb5,cxb5,Bb7,Nf3,Nh6,Be2,Bxf3,Bxf3,Ra7,Qb3,Rc7,Bd5,Be7,d4,O-O,dxe5,dxe5,Bxe5', 'Rc1+,Ke2,Rxh1', 'https://lichess.org/training/nWF5p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NwFtd', 'Rapid', 'serdolli', 2049, 'decluc04', 1698, 'e4,g6,f4,Bg7,Nf3,d6,Bc4,Nf6,Nc3,O-O,O-O,Nc6,d4,Bg4,Be3,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,Nxd4,Bxd4,Bxd4+', 'Qxd4,Qxd4+,Nxd4', 'https://lichess.org/training/NwFtd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwGQH', 'Blitz', 'FM AlainBruxelles', 2286, 'VFCSetubal1987', 2257, 'd4,d5,Bg5,Nf6,Bxf6,exf6,e3,c6,c4,dxc4,Bxc4,Bd6,Nf3,O-O,Nc3,b6,O-O,Bb7,Rc1,Nd7,a3,a6,Ba2,b5,b4,a5,Ne4,Be7,Bb1,axb4,axb4,Bxb4,Qc2,g6,h4,f5,Nc5,Bxc5,dxc5,Qe7,h5,Nf6,h6,Rfd8,Qb2,Ne8,Ba2,Qf6,Qb3,Rd7,Rfd1,Rad8,Rxd7,Rxd7,Nd4,Nc7,Qc3,f4,Nxb5,Qxc3,Nxc3,fxe3,fxe3,Kf8,Ne4,f5,Nd6,Ne8,Rb1,Nxd6,cxd6,Ke8,Kf2,Kd8,Kg3,Bc8,Bg8,Rxd6,Bxh7,g5,Rb8,Kc7', 'Rxc8+,Kxc8,Bxf5+,Kb7,h7', 'https://lichess.org/training/nwGQH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWGRV', 'Blitz', 'Fabi79', 1695, 'Hamdani-padja', 1996, 'e4,e5,d3,Nc6,Nf3,Nf6,Bg5,Be7,Nc3,O-O,Be2,a6,O-O,h6,Bxf6,Bxf6,Nd5,d6,Qd2,Nd4,Nxd4,exd4,c3,c6,Nxf6+,Qxf6,Bf3,dxc3,bxc3,Be6,a3,b5,Bh5,Rad8,f4,d5,e5,Qf5,Qe2,g6,Bf3,Rfe8,g4,Qxf4,Bxd5,Qxg4+', 'Qxg4,Bxg4,Bxf7+,Kg7,Bxe8', 'https://lichess.org/training/NWGRV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NwGXc', 'Blitz', 'badsacha', 2195, 'cedmart1', 2083, 'd4,f5,Nf3,Nf6,Bf4,d6,e3,g6,c3,Bg7,Nbd2,O-O,h4,Qe8,Bc4+,d5,Bd3,c6,Ne5,Nh5,Qe2,Nd7,O-O-O,Nxe5,Bxe5,Bxe5,dxe5,Be6,Kb1,c5,Nf3,Qa4,Bc2,Qa5,Ng5,Qb6,Nxe6,Qxe6,Rxd5,b5,Rhd1,Rfb8,f4,Ng3,Qf3,Ne4,Bxe4,fxe4,Qxe4,b4,c4,b3,axb3,Qb6,R1d3,a5,Rd7,a4,Rxe7,axb3,Qd5+,Kh8,Qf7,Ra1+,Kxa1,Qa5+,Kb1', 'Qe1+,Rd1,Qxd1#', 'https://lichess.org/training/NwGXc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWi4Z', 'Rapid', 'CarlosHenrique99', 1896, 'vijayhallur999', 1900, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,c3,Nf6,d3,Be7,O-O,O-O,Be3,a6,Bc4,b5,Bb3,Na5,Bc2,c6,d4,Nc4,Bg5,exd4,cxd4,Nxb2,Qe2,Nc4,Bb3,Be6,Nc3,Re8,Rad1,h6,Bh4,Nh7,Bxe7,Qxe7,Rfe1,d5,exd5,cxd5,Nxd5,Qd6,Ne3,Bd5,Bxc4,Bxc4,Qb2,Bd5,Nxd5,Rxe1+,Rxe1,Qxd5,Ne5,Nf6,Nf3,Rc8,a3,Nh5', 'Re5,Qc4,Rxh5', 'https://lichess.org/training/NWi4Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwIjD', 'Rapid', 'Hady_NesTA', 2170, 'Pri_X', 2005, 'e4,g6,d4,Bg7,Nf3,d6,c4,Bg4,Be3,Nc6,Be2,Bxf3,Bxf3,e5,d5,Nd4,Nd2,Ne7,O-O,O-O,Nb3,c5,dxc6,Nexc6,Rc1,f5,exf5,Nxf5,Bd5+,Kh8,Bd2,Qe7,Qg4,Rae8,Rfe1,Nh6,Qg5,Qd7,Rc3,Ng4,Rh3,Nxf2', 'Rxh7+,Kxh7,Qh4+,Bh6,Qxh6#', 'https://lichess.org/training/nwIjD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWiQS', 'Rapid', 'alexandermaster', 1658, 'ZahraMF', 1673, 'e4,e5,Bb5,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,Nf3,Nc6,O-O,Be7,d3,O-O,Nbd2,Bd7,Ne1,e4,f4,exf3,Nexf3,a6,Ng5,Nd4,c3,Nxb3,Qxb3,Bc6,d4,Ne4,Ngxe4,dxe4,Rf4,e3,Nf3,Bd6,Ne5,Bxe5,dxe5,Bd5,c4,Bxc4,Qxc4', 'Qd1+,Rf1,e2', 'https://lichess.org/training/NWiQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nWKh7', 'Rapid', 'carlosestr', 1635, 'TheBlackFish', 1748, 'e4,c5,Bc4,e6,Nh3,a6,a4,Qa5,Nc3,d6,d3,Bd7,Bd2,Qc7,O-O,g6,Ne2,Bg7,c3,Qa5,Nef4,Ne7,Bxe6,fxe6,Ng5,e5,Nfe6,Bf6,Qf3,Bxg5,Nxg5,Rf8,Qg3,Nbc6,Nxh7,Rh8,Nf6+,Kd8,Nxd7,Kxd7,Bg5,Rh5,f4,Rah8,h3,b5,fxe5,Nxe5,Bf4,N7c6,axb5,Qxb5,Bxe5,Nxe5,c4,Qxb2,Rxa6,Qd2,Ra7+,Kc6,Ra6+,Kd7,Ra3,g5,Rf5,Qc1+,Kh2,Qxa3,Rxg5,Rxg5,Qxg5,Qxd3,Qg7+,Kc6,Qxh8,Qxe4', 'Qa8+,Kd7,Qxe4', 'https://lichess.org/training/nWKh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwKN1', 'Rapid', 'AccidentalGenius2002', 2287, 'Mec_engineer1', 2488, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,Be2,d5,O-O,c5,c3,Nc6,dxc5,Ne4,Nbd2,e5,Bg3,Nxc5,Nb3,Ne4,Bb5,Bg4,Be2,Be6,Rc1,f5,c4,h6,cxd5,Bxd5,Bc4,Bxc4,Rxc4,Qxd1,Rxd1,Rad8,Rdc1,g5,h3,Nd6,Rxc6,bxc6,Bxe5,Ne4,Bxg7,Kxg7,Nfd4,Rf6,Nxc6,Rc8,Nbd4,f4,exf4,gxf4,b4,a6,a4,Nd6,Rc5,Nb7,Rd5,Rd6', 'Nf5+,Kh8,Nxd6', 'https://lichess.org/training/nwKN1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwkNs', 'Rapid', 'Masialeti', 1757, 'kithiyon', 1772, 'd4,e5,dxe5,d6,exd6,Bxd6,Nd2,Nf6,Ngf3,Nc6,g3,O-O,Bg2,Re8,O-O,Bg4,e3,h5,Qe1,Bxf3,Nxf3,Ne5,Nxe5,Bxe5,Bxb7,Rb8,Bc6,Rf8,Rb1,h4,Bg2,hxg3,fxg3,Re8,b3,Bd4,Bd2,Ng4,Rd1,Nxe3,Bxe3,Rxe3,Qf2,Rd3,Rxd3,Bxf2+,Rxf2,Qe7,Bd5,Rf8,Rdf3,g6,Rxf7,Rxf7,Rxf7', 'Qc5+,Rf2+,Qxd5', 'https://lichess.org/training/nwkNs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwLdA', 'Rapid', 'Ownedbyta', 2072, 'VladGl', 1997, 'Nf3,Nf6,c4,c6,d4,d5,Nc3,dxc4,e4,b5,e5,Nd5,a4,e6,axb5,Nxc3,bxc3,cxb5,Ng5,Bb7,Rb1,a6,Qg4,Bd5,Qf4,Qd7,Ne4,Nc6,Be2,Ne7', 'Nd6+,Kd8,Nxf7+,Kc7,Nxh8', 'https://lichess.org/training/nwLdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWlh8', 'Blitz', 'nickmi', 2017, 'Tomabc', 2023, 'd4,d5,c4,e6,cxd5,exd5,Nc3,c6,Nf3,Nf6,Bg5,Be7,Qc2,O-O,e3,h6,Bh4,Bg4,Nd2,Nbd7,Bd3,Rc8,f4,Nb6,h3,Bd7,g4,c5,g5,hxg5,Bxg5,cxd4,exd4,Nh5,O-O-O,Bxg5,fxg5,Qxg5,Rdg1,Qh6,Kb1,Nf4,Ka1,Nxd3,Qxd3,Nc4,Nf3,Bc6,Ng5,Rfe8,Qf3,Rc7,h4,Ne3,Rh2,b5,Qf4,Rce7,Re2,a5,Rg3,b4,Rgxe3,Rxe3,Rxe3,Rxe3', 'Qxf7+,Kh8,Qf8#', 'https://lichess.org/training/NWlh8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwm1F', 'Rapid', 'erhan153', 1798, 'amin_47', 1855, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,c5,d3,Nf6,Qe2+,Be6,Nf3,Bd6,O-O,O-O,Bg5,h6,Bh4,Re8,Nc3,a6,Rfe1,Nbd7,h3,b5,Nd1,Be7,a3,Rb8,Bg3,Rc8,Ne3,Bf8,c3,Nb6,Qd2,c4,dxc4,dxc4,Bc2,Qxd2,Nxd2,Red8,Ne4,Nxe4,Bxe4,Nd5,Nxd5,Bxd5,Bxd5,Rxd5,Rad1,Rcd8,Rxd5,Rxd5,Re8,f6,Ra8,Kf7,Rxa6,Rd2,a4,Rxb2,axb5,Rxb5,Rc6,Rb1+,Kh2,Rb2,Rxc4,h5,Rc7+,Kg6,f3,Rc2,Rc8,Kf7,Bf4,g5,Be3,Bd6+,Kg1,Bg3,Kf1,Ra2,Bd4,h4,Rc6,Ra1+,Ke2,Re1+,Kd3,Rd1+,Ke4,Rd2,Rxf6+,Ke7,Rg6,Bf4,Bf6+,Kf7,Kf5', 'Rd5+,Ke4,Kxg6,Kxd5,Kxf6', 'https://lichess.org/training/nwm1F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwm2v', 'Rapid', 'elvispy65', 1688, 'RASV', 1613, 'b4,d5,Bb2,b5,Nf3,e6,a3,Bb7,Nd4,Qd7,e3,e5,Nxb5,Ba6,Nxa7,Bxf1,Kxf1,Rxa7,Bxe5,Qf5,Bb2,Nf6,d4,Bd6,Nc3,Ng4,f3,Nxh2+,Ke1,Bg3+,Ke2,O-O,Qd3,Qe6,Rxh2,Bxh2,Rh1,Qh6,Nxd5,c6,Nf4,Qh4,c4,Qg3,d5,Rd7,Bxg7,Kxg7', 'Nh5+,Kh8,Nxg3', 'https://lichess.org/training/nwm2v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWMwP', 'Classical', 'De_Zhur', 1773, 'Gedimin86', 1826, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,Nf6,h3,Bh5,Bc4,e6,O-O,Nbd7,d3,c6,a3,Ne5,g4,O-O-O,gxh5,Nxc4,Qe2,Nd6,Bg5,h6,Bxf6,gxf6,Nh4,Rg8+,Kh1,Be7,Rg1,f5,Rxg8,Rxg8,Nf3,f4,Ne5,Bf6,d4,Rg5,Re1,Qb6', 'Nxf7,Nxf7,Qxe6+', 'https://lichess.org/training/NWMwP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwn2W', 'Rapid', 'maihung', 1802, 'best_username', 1823, 'e4,c5,Bc4,e6,Nf3,a6,Ne5,b5,Be2,Bb7,d3,d6,Nxf7,Kxf7,Bh5+,g6,Bg4,Nf6,Qf3,Bg7,Qh3,Nxg4,Qxg4,Rf8,O-O,Kg8,h4,Qd7,h5,e5,Qe2,Nc6,hxg6,hxg6,c3,Bf6,Nd2,Qh7,Nf3,Kg7,Bg5,Rh8,Nh4,Bxg5,Qg4,Bxh4,Qd7+,Kf6,Qxd6+,Kg5,f4+,exf4', 'Qxf4+,Kh5,g4#', 'https://lichess.org/training/nwn2W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nwn42', 'Rapid', 'cameroonlion', 1671, 'foloin', 1683, 'e4,e5,Nc3,Nf6,f4,d6,Nf3,exf4,d4,Bg4,Bxf4,Nc6,Bb5,a6,Bc4,Bxf3,gxf3,Nh5,Be3,Be7,Bf2,Bh4,Rf1,Nf4,Rg1,Bxf2+,Kxf2,Nh3+,Kf1,Nxg1,Kxg1,Qf6,Qd3,Qxd4+,Qxd4,Nxd4,Nd5,Kd7,Kf2,Nxc2,Rc1,b5,Bb3,Nd4,Rxc7+,Kd8,Rxf7,Nxb3,axb3,Rc8,Rxg7,Rc2+,Ke3,Rxh2,Nf4,Re8,Ra7,h5,Rxa6,h4,Rxd6+,Kc8,Rh6,Rg8,b4,Rxb2,Rxh4,Rxb4,Nd5,Rb3+,Kd4,Rd8,Rf4,Ra3,Kc5,Rb3,Rf6,Kb7,Rb6+,Ka7,Rxb5', 'Rc8+,Kd4,Rxb5', 'https://lichess.org/training/Nwn42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nWN8u', 'Rapid', 'Tarachan', 1624, 'Djoradjon', 1681, 'e4,e6,Nf3,h6,Be2,a6,O-O,d6,c3,Nf6,Na3,Nxe4', 'Qa4+,Nd7,Qxe4', 'https://lichess.org/training/nWN8u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nWnep', 'Blitz', 'Delli9', 2249, 'ChessAndGirls', 2224, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bd3,Qb6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nc3,a6,Qe2,Qh4,Be3,Ne7,f4,Ng6,a3,Rc8,Rac1,Bc5,Bxc5,Rxc5,f5,Nf4,Qe3,Nxd3,Qxd3,O-O,f6,g6,Rf3,Rc4,Ne2,Qe4,Qd2,Rxc1+,Nxc1,Kh8,Qh6,Rg8', 'Qxh7+,Kxh7,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/nWnep');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nwnyx', 'Blitz', 'jakacop', 2143, 'afrockalypse', 2160, 'e4,c5,b3,Nc6,Bb2,d5,exd5,Qxd5,Nc3,Qg5,Nf3,Qg6,g3,Bg4,Bg2,O-O-O,O-O,Nd4,h3,Nxf3+,Bxf3,Bxh3,Re1,Nf6,Nb5,e6,Nxa7+,Kb8,Nb5,Nd5,Be5+,Ka8,c4,f6,b4,fxe5,Qa4+,Kb8,Qa7+,Kc8,Qa8+,Kd7,Qxb7+,Ke8,cxd5,Bd6,bxc5,Bxc5,Nc7+,Kf8,Nxe6+,Bxe6,dxe6,Qxg3+,Bg2,Qxf2+,Kh1', 'Qh4+,Bh3,Qxh3#', 'https://lichess.org/training/Nwnyx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWOAg', 'Classical', 'Denisov_Roma', 2081, 'derhexer2004', 1867, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nf3,Nc6,Be2,Be7,O-O,O-O,Nc3,Bf6,Ne4,Be7,Nc3,Bg4,Ne5,Bxe2,Nxc6,Bxd1,Nxd8,Raxd8,Rxd1,Bf6,b3,c5,Be3,Rfe8,Ne2,d5,Rac1,cxd4,Nxd4,dxc4,bxc4,Re4,c5,Nd5,Nf5,Nxe3,Rxd8+,Bxd8,Nxe3,Ra4,c6,bxc6,Rxc6,Rxa2,Rc8,Ra1+,Nf1,Rd1,Ra8,a5,h3,g6,Kh2,Kg7,Ne3,Bc7+,g3,Rd2,Kg2,Bb6,Kf3,Rd7,Nc4,Bc7,Nxa5', 'Rd3+,Kg2,Ra3', 'https://lichess.org/training/NWOAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWOin', 'Rapid', 'Valorml', 1869, 'ErnestPookie', 1716, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,Nf6,Nbd2,Nbd7,c3,c5,Ne5,cxd4,exd4,Bd6,Ndf3,Nb6,Bg5,h6,Bb5+,Kf8,Bh4,g5,Nxg5,hxg5,Bxg5,Rg8,h4,Be7,Bh6+,Rg7,Qf3,Kg8,Bxg7,Kxg7,g4', 'Be4,Qf4,Bxh1', 'https://lichess.org/training/NWOin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwqgo', 'Rapid', 'PAC3', 1907, 'bokoko', 1855, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Bc5,Qg4,Qf6,O-O', 'd5,Qe2,dxc4', 'https://lichess.org/training/nwqgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWRLt', 'Rapid', 'binnitesh', 1670, 'joselete', 1673, 'e4,e5,Nf3,d6,h3,Nf6,d3,h6,Be2,Be7,O-O,Be6,c4,c5,Nc3,Nc6,a3,O-O,b4,Nd4,bxc5,dxc5,Nxe5,Bd6,Nf3,Qd7,Nxd4,cxd4,Nb5,Be5,a4,Bxh3,gxh3,Qxh3,f4,Qg3+,Kh1,Bxf4,Bxf4,Qh3+,Kg1,h5,Rf3,Qg4+,Kf2,Qh4+,Kf1', 'Qh1+,Kf2,Ng4+,Kg3,Qh2#', 'https://lichess.org/training/NWRLt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWRzq', 'Blitz', 'miguelfc', 2207, 'WIM qween1', 2288, 'Nf3,d5,d4,c5,Bf4,Nc6,e3,e6,c3,Nf6,Nbd2,Bd6,Bxd6,Qxd6,Bb5,O-O,O-O,Nd7,Ng5,h6,Nh3,e5,dxe5,Ndxe5,Nf4,Ne7,Nc4,Nxc4,Bxc4,Be6,Nxe6,Qxe6,Bb3,Rfd8,Qf3,Rac8,Rad1,c4,Bc2,Nc6,Bf5,Qe5,Bxc8,Rxc8,Rxd5,Qe7,Rfd1,Ne5,Qe4,Re8,f4,Nd3,Qxe7,Rxe7,b3,Rxe3,bxc4,Nxf4,Rd8+,Kh7,g3,Ne6,R8d3,Re2,R1d2,Re4,Rd7,Rxc4,Rxb7,a5,Rxf7,Ng5,Rf4,Rxc3,Ra4', 'Nf3+,Kf2,Nxd2', 'https://lichess.org/training/NWRzq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwsay', 'Classical', 'George200201', 1717, 'NeinDochOh', 1685, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,Bg4,Be2,Nc6,Be3,e6,h3,Bxf3,Bxf3,O-O-O,Ne2,Qb4+,c3,Qxb2,O-O,Nd5,Bd2,Na5,Rb1,Qxa2,Rb5,c6,Nc1,Qa3,Rb1,Nxc3,Bxc3,Qxc3,Ne2,Qc4,Ra1,Bb4,Ra4,b5,Ra1,Kb8,Rc1,Qb3,Qxb3,Nxb3,Rxc6,Rc8,Ra6,Nd2,Rfa1,Nxf3+,gxf3,Rc7,Rb1,Bd6,Rxd6,Rb7,Ra6,Rc8,Ra5,Rc2,Nc1,Rc4,Raxb5', 'Rxc1+,Rxc1,Rxb5', 'https://lichess.org/training/nwsay');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwSGO', 'Rapid', 'BOLT_777', 1710, 'Easypeasy123', 1976, 'd4,d5,Nc3,Nf6,Nf3,Bf5,Bf4,e6,a3,c5,dxc5,Bxc5,Bg5,Qa5,e3,Ne4,b4,Bxb4,axb4,Qxb4,Qd4,Qxc3+,Qxc3,Nxc3,Nd4,Bg6,Bb5+,Nxb5,Nxb5,Kd7,O-O-O,Rc8,Rd2,a5,f3,a4,e4,Na6,exd5,Rc5,dxe6+,Kxe6,Re1+,Kf5,Nd6+,Kxg5,g3,Nb4,h4+,Kf6,Ne4+,Bxe4,Rxe4,Na2+,Kb2,Nc3', 'Rd6+,Kf5,g4#', 'https://lichess.org/training/nwSGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwsHc', 'Rapid', 'Dan-K2', 1614, 'tearsofaclown', 1633, 'e4,c5,Nf3,Nc6,d4,d6,dxc5,dxc5,Qxd8+,Nxd8,Bd3,Ne6,b3,g6,Bb2,Nf6,h3,Bg7,Nbd2,O-O,O-O-O,Nc7,g4,b5,g5,Nh5,Bxg7,Kxg7,Nf1,Bb7,Ng3,Nf4,h4,f6,h5,Nxd3+,Rxd3,fxg5,Nxg5,Rxf2,Rd7,Rc8,Rxe7+,Kf6,hxg6,hxg6', 'Rf7+,Kxg5,Rxf2', 'https://lichess.org/training/nwsHc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NwSR3', 'Rapid', 'krztok', 1852, 'lachakaleak', 1848, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,Nf6,Bd3,d5,Nc3,d4,Nce2,Bc5,Nf3,O-O,O-O,Bg4,Nd2,Ne5,Nc4,Nxd3,Qxd3,b5,Ne5,Re8,Nxg4,Nxg4,h3,Ne5,Qd1,d3,cxd3,Nxd3,Bf4,Bxf2+,Rxf2,Nxf2,Kxf2,Qf6,Kg1,Rxe4,Bxc7,Rae8,Nc3,Re1+,Qxe1,Rxe1+,Rxe1,h6,Be5,Qb6+,Kh1,b4,Na4,Qf2,Rd1,Qe2,Rd8+,Kh7,Bb8,Qf1+,Kh2,Qb5,b3,a5,Rf8,Qb7,Be5', 'Qe7,Ra8,Qxe5+', 'https://lichess.org/training/NwSR3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWu0I', 'Rapid', 'Kristina288', 1683, 'JUSTMOVE34', 1637, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,Bxc6+,bxc6,Re1,Bg4,d4,exd4,Qxd4,Bxf3,gxf3,Be7,e5,Nd5,c4,Nb4,Na3,O-O,Bd2,c5,Qe4,dxe5,Bxb4,cxb4,Nc2,Qc8,f4,Qg4+,Kh1,Qxf4', 'Qxf4,exf4,Rxe7', 'https://lichess.org/training/NWu0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWuCS', 'Rapid', 'never__quit', 1828, 'ConstanceA', 1838, 'e4,d5,exd5,Qxd5,Nf3,c5,Nc3,Qd8,Bc4,Nf6,h3,g6,d3,Bg7,Bf4,O-O,Qd2,a6,a4,Nc6,O-O,Re8,Bh6,e5,Bxg7,Kxg7,Rfe1,Qc7,Ne4,Nxe4,Rxe4,Be6,Rh4,h5,Re1,Bxc4,Rxc4,Rad8,Rxc5,Qb6,Qc3,f6,a5,Qc7,Nd2,Qf7,Nc4,Nd4,Nb6,Re7,Qd2,Qe6,c3,Nb3,Qe3,Nxc5,Qxc5,Rxd3,f4,e4,Nc4,Red7,Ne3,Rd2,f5,Qc6,Qb4,g5,c4,Qd6,Qb3,Qd4,Kh1,Rxb2,Qa4,Qd2', 'Rd1,Rb1,Rxb1', 'https://lichess.org/training/NWuCS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NwuIU', 'Blitz', 'farrrid', 1924, 'anatoliuss', 1859, 'e3,e6,b3,c6,Bb2,a5,Qe2,a4,Nc3,axb3,cxb3,Ba3,d4,Bxb2,Qxb2,Nf6,g3,d5,Bg2,h5,Nf3,g6,O-O,O-O,Qc2,Bd7,e4,Nxe4,Nxe4,dxe4,Qxe4,Na6,Qe5,Qc7,Qg5,Qd8,Qh6,Qf6,Ne5,Be8,Be4,Qg7,Qe3,Nb4,a3,Nd5,Bxd5,exd5,Rae1,Rd8,f4,Bd7,Nxd7,Rxd7,f5,Rd6,fxg6,fxg6,Qe5,Rdf6,Rxf6,Qxf6,Qxf6,Rxf6,Re8+,Kg7,Re7+,Rf7,Rxf7+,Kxf7,Kf2,b6,Kf3,c5,dxc5,bxc5,Ke3,Ke6,Kf4,d4,Ke4,g5,a4,Kd6,a5', 'Kc6,a6,Kb6,a7,Kxa7', 'https://lichess.org/training/NwuIU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWUqw', 'Rapid', 'Kopylov-77728', 1777, 'w1024793', 1934, 'e4,d5,exd5,Nf6,a3,Bf5,Bc4,c6,d3,cxd5,Ba2,Nc6,Nf3,Qb6,Nc3,Ng4,O-O,e6,Nh4,O-O-O,Nxf5,exf5,Qf3,Qc7,Qxf5+,Qd7,Qxd7+,Rxd7,Bxd5,Bd6,g3,Nd4,Bb3,Nf3+,Kg2,Nd4,Bd2,h5,h3,Nf6,Be3,Nf5,Rae1,Nh7,Bd2,g5,Re2,Rg8,Rfe1,Nf6,Ne4,Nxe4,Rxe4,g4,h4,Rg7,Re8+,Kc7,Rh8,Nd4,Bc3,Bc5,Rxh5,b6,Bxd4,Bxd4,c3,Bc5,d4,Bd6,Rh8,f5,Ree8,f4,Bd5,f3+,Kf1,Bxg3,Be6,Bxf2,Bxd7,g3,Rhg8', 'g2+,Kxf2,g1=Q+', 'https://lichess.org/training/NWUqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NwvSg', 'Blitz', 'NM Marohzevich', 2526, 'FM alekskooks', 2596, 'e4,d5,exd5,Qxd5,Nf3,Qd6,d4,Nf6,c4,Bg4,Be2,Nc6,Be3,O-O-O,Nbd2,h5,c5,Qd5,Qa4,e5,Bc4,Qd7,Bb5,exd4,Nxd4,Bxc5,Nxc6,bxc6,Bxc6,Qd3,Bb5,Qd6,Qa6+,Qxa6', 'Bxa6+,Kb8,Bxc5,Rhe8+,Be3', 'https://lichess.org/training/NwvSg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nwwsx', 'Classical', 'aleksandrcrimea', 2069, 'SagmaO', 1876, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,c5,c3,Nbd7,Bd3,Be7,Nbd2,O-O,Ne5,Nxe5,dxe5,Nd7,Qh5,g6,Qg4,f5,exf6,Nxf6,Qe2,c4,Bc2,Nh5,Bh6,Ng7,h4,Bxh4,g3,Bf6,Nf3,e5,O-O-O,Bg4,Bxg7,Bxg7,Be4,Qf6,Bxd5+,Kh8,Qxc4', 'Bxf3,Bxf3,Qxf3', 'https://lichess.org/training/nwwsx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWxCe', 'Rapid', 'BVM1990', 1781, 'gutsyopening', 1794, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Nf6,Re1,Bd6,d4,Qe7,dxe5,Bxe5,Nxe5,Qxe5,f4,Qc5+,Be3,Qh5,Qxh5,Nxh5,e5,g6,Bc5,Nxf4,Nc3,Bf5,Rac1,O-O-O,h3,Rd2,Bf2,Bxc2,Be3,Rxg2+,Kh1,g5', 'Bxf4,gxf4,Kxg2', 'https://lichess.org/training/NWxCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWy9f', 'Blitz', 'edas', 1933, 'Cocorichess', 2177, 'd4,f5,Nf3,Nf6,Bg5,e6,Bxf6,Qxf6,Nbd2,b6,e3,Bb7,Bd3,d6,Qe2,Nd7,h4,Be7,h5,h6,e4,f4,e5,Qf8,Be4,O-O-O,Bxb7+,Kxb7,a4,a5,c3,d5,b4,axb4,cxb4,Bxb4,O-O,Ra8,Rfb1,Ba5,Nb3,Qf5,Nxa5+,Rxa5,Rb5,Rha8,Nh4,Qg5,Rxa5,Rxa5,Ng6,c5,dxc5,Nxc5,Nf8,Qf5,Ng6,Rxa4,Rxa4,Nxa4,Qb5,Nc5,Ne7,Qxe5,Qc6+,Ka6,Nc8,Qe1+,Kh2,Qb4', 'Qa8+,Kb5,Nd6#', 'https://lichess.org/training/NWy9f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NwyaN', 'Blitz', 'arolp', 1574, 'Juanc8219', 1587, 'e4,e6,d4,d5,e5,c5,c3,Bd7,Bd3,Nc6,Nf3,Nge7,O-O,Nf5,Bg5,Be7,Bd2,cxd4,cxd4,Ncxd4,Nxd4,Nxd4,Bc3,Nf5,Nd2,O-O,Nf3,a5,Re1,b5,Nd4,b4,Nxf5,bxc3,Nxe7+,Qxe7,bxc3,a4,h3,Qg5,Re3,Bc6,Rg3,Qxe5,Qg4,g6,Rc1,f5,Qg5,Rab8,h4,Rb2,h5,Rf6,hxg6,Rxg6,Qd8+,Kg7,Qe7+,Kh8', 'Qf8+,Rg8,Rxg8#', 'https://lichess.org/training/NwyaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nWYBn', 'Rapid', 'KhalidM', 1976, 'mikhail_tal1998', 1837, 'd4,b5,e4,a6,c4,b4,a3,bxa3,bxa3,e6,Nc3,Bb7,d5,d6,Nf3,Nd7,dxe6,fxe6,Ng5,Qf6,Qh5+,g6,Qg4,Qxc3+,Kd1,Qd4+,Kc2,Qxa1', 'Qxe6+,Be7,Qf7+,Kd8,Ne6+,Kc8,Qe8+,Bd8,Qxd8#', 'https://lichess.org/training/nWYBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NWzsg', 'Rapid', 'mulga', 1815, 'manudada', 1717, 'd4,d5,c4,dxc4,e4,b5,a4,c6,axb5,cxb5,Nc3,a6,Nxb5,Bd7,Bxc4,Qb6,Qf3,e6,Qd3,Bb4+,Ke2,Ne7,Nf3,Ng6,d5,O-O,dxe6,Bxe6,Bxe6,fxe6,Be3,Bc5,Bxc5,Qxc5,Rhc1,Qxb5', 'Qxb5,axb5,Rxa8', 'https://lichess.org/training/NWzsg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nx0ue', 'Blitz', 'karey70', 2185, 'jaydeep', 2126, 'c4,c6,Nc3,d5,d4,e6,e3,Nf6,Nf3,Nbd7,Bd3,b6,e4,dxe4,Nxe4,Nxe4,Bxe4,Bb7,O-O,Nf6,Bg5,Be7,Bc2,O-O,Qd3,g6,Ne5,c5,Rad1,cxd4,Qxd4,Nh5,Bxe7,Qxe7,Ng4,Rfd8', 'Nh6+,Kf8,Qh8#', 'https://lichess.org/training/Nx0ue');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NX1cY', 'Rapid', 'Shaxnasib', 1825, 'AZE_Teymur06', 1925, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,d3,h6,Nf3,e4,Qe2,Nxc4,dxc4,Bc5,Nc3,O-O,O-O,exf3,Qxf3,Bg4,Qg3,Re8,h3,Bd6,Qd3,Bh5,Be3,Bg6,Qd2,Bb4,a3,Ne4,Qe1,Bxc3,bxc3,Nd6,c5,Nc4,Qd1,Nxe3,fxe3,Qg5,Rf3,Rad8,c4,Be4,Rf2,Qxe3,Qh5,f5,Rf1,Qxc5,g4,Qxa3,Kh2,Qd6+,Rf4,g5,gxf5,gxf4,Rg1+,Kh7', 'Qf7+,Kh8,Qg7#', 'https://lichess.org/training/NX1cY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nx1YA', 'Classical', 'Lexs004', 1812, 'jordanatkinsom888', 1746, 'e4,e5,Bc4,Nf6,Nf3,Bc5,Nxe5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,d4,Bb6,e5,Qe7,O-O,Nd5,Qf3+,Nf6,exf6,gxf6,Qh5+,Kg8,Qd5+,Kh8,Bd2,c6,Re1', 'Qxe1+,Bxe1,cxd5', 'https://lichess.org/training/nx1YA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nx29a', 'Rapid', 'oxun', 1664, 'fd2blck', 1628, 'e4,e5,Nf3,Nf6,Nc3,Bc5,h3,Nc6,a3,a5,b3,O-O,Bb2,d6,Nd5,Nxe4,d4,Nxd4,Nxd4,exd4,Bxd4,Be6,Bxc5,dxc5,Bc4,Bxd5,Bxd5,Re8,O-O,Nc3,Qf3,Qxd5,Qxc3,b6,Rad1,Qg5,f4,Qg6,Rf3,Rad8,Rdf1,Re2,Rg3,Qh6,f5,f6', 'Qc4+,Kf8,Qxe2', 'https://lichess.org/training/nx29a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nx2kD', 'Rapid', 'kami0209', 1707, 'vf75', 1721, 'e4,e5,Nf3,Nc6,g3,Nf6,d3,d6,Bg2,Be7,O-O,O-O,Be3,h6,c3,Be6,b4,b5,Nbd2,d5,Nb3,Ng4,Bc5,Bxc5,Nxc5,d4,Nxe6,fxe6,cxd4,Nxd4,Nxd4,Qxd4,Qxg4,Rxf2,Qxe6+,Rf7+,Kh1,Rf8,Rxf7,Qxa1+,Bf1', 'Rxf7,Qe8+,Rf8,Qxf8+,Kxf8', 'https://lichess.org/training/Nx2kD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nx3B4', 'Rapid', 'Taras12111991', 1844, 'almatrusko', 1837, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,g3,d6,Bg2,Nbd7,O-O,e5,e3,Re8,Qc2,c6,Rd1,Qe7,b3,Nf8,Bb2,e4,Nd2,d5,a4,Bg4,Re1,a6,a5,Qe6,Ne2,g5,b4,h5,b5,h4,gxh4,gxh4,h3,Bxh3', 'Nf4,Qg4,Nxh3', 'https://lichess.org/training/Nx3B4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nx3UU', 'Rapid', 'Deepesh00', 1674, 'wombat97express', 1718, 'd4,d5,Nc3,Nf6,Bf4,Bf5,e3,Nbd7,Be2,e6,Nf3,Bd6,Bxd6,cxd6,O-O,O-O,Nb5,Qb6,b4,a6,Nh4,Be4,Nc3,Qxb4,Qd2,Rac8', 'Nxe4,Qxd2,Nxd2', 'https://lichess.org/training/Nx3UU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NX3YK', 'Rapid', 'CBrocks', 1632, 'resoplez', 1591, 'c4,e5,Nc3,Nf6,g3,Bc5,h3,Nc6,Bg2,b6,e4,O-O,Nge2,a6,O-O,d6,Kh2,Na5,f4,Rb8,a3,Bb7,b4,Bd4,bxa5,bxa5,Nxd4,exd4,Ne2,Nxe4,d3,f5,dxe4,fxe4,Nxd4,Qf6,Re1,c5,Nc2,Qc3,Bxe4,Bxe4,Rxe4,Rb3,Qe2', 'Qxg3+,Kh1,Qxh3+,Kg1,Rg3+', 'https://lichess.org/training/NX3YK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nx4AT', 'Blitz', 'east_one', 1689, 'jokermoriarty', 1704, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,a3,a6,d4,b5,Ba2,exd4,Nxd4,Nxd4,Qxd4,c5,Qe5+,Be7,Nd5,Nxd5,exd5,O-O,d6,Bf6,Qg3,Rb8,O-O,Bb7,Bxh6,Qb6,Be3,c4,Rad1,Qxe3,Qxe3,Rfe8,Qh3,Re6,b3,Bc6,bxc4,bxc4,Bxc4,Re4,Bxa6,g6,Rb1,Ra8,Bb7,Bxb7,Rxb7,Kg7,Qxd7,Rf8,Qc6,Rh4,d7,Rfh8,Qc8,Rxh2,f3', 'Bd4+,Rf2,Rh1#', 'https://lichess.org/training/Nx4AT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NX4k5', 'Rapid', 'SavageNoob19', 2070, 'icodd', 2092, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,Nc3,Ne7,Bg5,Nc6,Bxd8,Nxd4,O-O-O,Nb3+,Kb1,Kxd8,cxb3,a6,Na4,b5,Nb6,Rb8,Nxc8,Rxc8,e5,Bc5,f4,Be3,g3,Ke7,Bg2,Rc7,Rd6,Rhc8,a3,a5,Rhd1,Rc1+,Ka2,Rxd1,Rxd1,Rc2,Bf1,b4,Bb5,Rxh2,Rxd7+,Kf8,Ra7,Bd4', 'Ra8+,Ke7,Re8#', 'https://lichess.org/training/NX4k5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nx60u', 'Blitz', 'IamALLmonsters', 2357, 'talentosochess1', 2354, 'c4,b6,Nc3,Bb7,e4,e6,g3,Bb4,Bg2,f5,Nge2,Nf6,a3,Bxc3,Nxc3,fxe4,d3,d5,dxe4,d4,Nb5,e5,f4,O-O,O-O,Bxe4,fxe5,Bxg2,Kxg2,Nfd7,Rxf8+,Nxf8,Qxd4,Nc6,Qd5+,Qxd5+,cxd5,Nxe5,Nxc7,Rc8,Bf4,Nfg6,Bxe5,Nxe5,d6,Nf7,Nb5,a6,d7,Rc2+,Kf3,axb5,Re1,g6,Re8+,Kg7,Ke3,Rxb2', 'Re7,Kf6,Rxf7+,Kxf7,d8=Q', 'https://lichess.org/training/nx60u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nx6T9', 'Blitz', 'ser123456', 1762, 'kszez', 1780, 'd4,d5,e3,e6,g3,Nf6,Nf3,c5,Bg2,cxd4,Qxd4,Nc6,Qd2,Bc5,O-O,Qb6,a3,O-O,b4,Bd6,Qc3,Bd7,Nbd2,Rac8,Qb3,e5,c4,dxc4,Nxc4,Qc7,Bb2,Be7,Qd1,e4,Nfd2,Rcd8,Bxe4,Nxe4,Nxe4,Bh3,Qf3,Bxf1,Rxf1,a5,b5,Na7,a4,Qxc4,Rc1,Qxa4,Qg4,f6,Ra1,Qb4,Bc3,Qxb5,Rxa5,Qc6,Rxa7,f5', 'Qxg7#', 'https://lichess.org/training/nx6T9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nX71r', 'Blitz', 'CM Velociraptorblue', 2328, 'marcoschess27', 2039, 'd4,d5,Nf3,c6,c4,Nf6,cxd5,cxd5,Nc3,Bf5,Bf4,e6,e3,Bd6,Bb5+,Nc6,Qa4,Bxf4,Bxc6+,bxc6,Qxc6+,Nd7,exf4,O-O,O-O,Rc8,Qd6,Nb6,Qxd8,Rfxd8,Nd2,Nc4,Nxc4,Rxc4,Rfd1,h6,f3,Rb8,Rd2,a5,Kf2,a4,a3,Kf8,Ke3,Ke7,Rc1,Rbc8,g4,Bg6,h4,h5,f5,exf5,Nxd5+,Kd6,Rxc4,Rxc4,gxf5,Kxd5,fxg6,fxg6,Rg2,Rc6,Rg5+,Kc4,Ra5,Kb3,Rb5+,Ka2,d5,Rd6,Kd4,Rf6,Ke5,Rxf3,d6', 'Rf5+,Ke6,Rxb5', 'https://lichess.org/training/nX71r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nx7cz', 'Blitz', 'corne2020', 2313, 'kabasob', 2295, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,Nc3,d6,e3,g6,Nf3,Bg7,a4,O-O,Be2,Nbd7,O-O,h5,Rb1,Ng4,h3,Nge5,bxa6,Nxf3+,Bxf3,Bxa6,Be2,Ne5,Bb5,Qa5,Qe2,c4,Bd2,Qc7,f4,Nd3,e4,Bxc3,Bxc3,Bxb5,axb5,Qc5+,Kh1,Qxb5,g4,hxg4,Qxg4,Qb6,Qh4,f6,Rg1,Qf2,Rxg6+,Kf7,Qh7+,Ke8,Rg2,Qxf4,Qg6+,Kd7,Qg4+,Kc7,Qxf4,Nxf4,Rg7,Rae8,Ra1,Nxh3,Ra7+,Kb6,Raxe7,Rxe7,Rxe7,Nf2+,Kg2,Nd3,Re6', 'Nf4+,Kf3,Nxe6,dxe6,Re8', 'https://lichess.org/training/Nx7cz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NX89w', 'Rapid', 'cwp21', 1734, 'peterk321', 1761, 'e4,e5,Nf3,d6,d4,Nc6,dxe5,Bg4,exd6,cxd6,Be2,Nf6,Nc3,Be7,Nd4,Bxe2,Ndxe2,O-O,Nf4,Ne5,Nfd5,Re8,h3,Qd7,Bg5', 'Nxd5,Nxd5,Bxg5', 'https://lichess.org/training/NX89w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nx9hT', 'Rapid', 'Cendol_Dawet', 1901, 'LorenzoOfficialITA', 2242, 'c4,Nf6,Nc3,e5,Nf3,e4,Ng5,c6,Ngxe4,Nxe4,Nxe4,d5,cxd5,Qxd5,Nc3,Qh5,d4,Bd6,Bd2,Be6,e4,Qg6,e5,Be7,Qf3,Nd7,Bd3,f5,Ne2,O-O,Nf4,Qf7,Nxe6,Qxe6,b3', 'Nxe5,dxe5,Qxe5+,Qe2,Qxa1+', 'https://lichess.org/training/nx9hT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nx9Iz', 'Blitz', 'maxizeusik', 2135, 'FrTuch', 2034, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,Nf3,Nc6,exd6,cxd6,Nc3,Bg4,Be3,g6,h3,Bxf3,Qxf3,Bg7,Rd1,O-O,g4,e6,b3,d5,c5,Nd7,Bb5,a6,Bxc6,bxc6,O-O,Nf6,Bg5,h6,Bf4,Qa5,Be5,Nh7,Bd6,Rfe8,Na4,Ng5,Qd3,Qd8,Nb6,Ne4,Nxa8,Qxa8,Bg3,Qd8,Kg2,Qa5,a3,f5,b4,Qd8,Qxa6,fxg4,hxg4,Qg5,f3,Nxg3,Kxg3,h5,Qxc6,h4+,Kf2,Re7,Rde1,Bxd4+,Kg2,Qf4,Re2', 'Qg3+,Kh1,Qh3+,Rh2,Qxf1#', 'https://lichess.org/training/Nx9Iz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nX9Yd', 'Rapid', 'Beyunst', 1722, 'brane1974', 1712, 'd4,d5,Bf4,Nc6,e3,Nf6,c3,Bf5,Bd3,Bg4,Qb3,Qc8,h3,Be6,Nf3,Ne4,Nbd2,g6,Qc2,f5,Ne5,Bd7,f3,Nd6,e4,dxe4,fxe4,fxe4,Nxe4,Bg7,O-O-O,O-O,Rdf1,Bf5,g4,Bxe4,Bxe4,Nxe4,Qxe4,Nxe5,dxe5,c6,Rfg1,Qe6,Kb1,a5,h4,Qd5,Qd4', 'Qxd4,cxd4,Rxf4', 'https://lichess.org/training/nX9Yd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nXALA', 'Classical', 'Tom37', 1842, 'destran', 1947, 'd4,Nf6,c4,c5,d5,b5,b3,Qa5+,Bd2,b4,Nf3,g6,Bg5,Bg7,Qc2,Nxd5,Qe4,Bxa1,cxd5,O-O,Qxe7,Qxa2,Nfd2,Bc3,Qe4,d6,g4,Bxg4,f3,Bf5,Qe7,Qxb1+,Kf2,Bxd2,Bxd2,Qxb3,Bh6,Na6,Qxd6,Qa4', 'Qf6,Qa1,Qxa1', 'https://lichess.org/training/nXALA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nxb1R', 'Rapid', 'andrew61', 1735, 'castrowell', 1696, 'c4,e5,Nc3,Nc6,a3,Nf6,e4,Be7,h3,O-O,Nf3,h6,Be2,d6,d3,a6,Be3,Na5,b4,Nc6,Rc1,b6,d4,exd4,Bxd4,Nxd4,Nxd4,Bb7,Bf3,Rb8,O-O,Re8,Nf5,Kh7,Nd5,Nxd5,cxd5,Bg5,Rc2,g6,Nd4,b5,Re1,Qd7,Nc6,Bxc6,Rxc6,Rb6,Bg4,Qe7,f3,Rxc6,dxc6,Qe5,Bd7,Re7,Qd5', 'Qxd5,exd5,Rxe1+', 'https://lichess.org/training/Nxb1R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NXeh3', 'Blitz', 'Thrud', 1646, 'Cyberfoot', 1772, 'Nf3,Nf6,c4,g6,g3,Bg7,Bg2,d6,O-O,O-O,d4,Nc6,Nc3,e5,d5,Nd4,Nxd4,exd4,Ne4,Nxe4,Bxe4,f5,Bd3,c5,b4,b6,Qb3,Bd7,h4,h6,Bf4,Qe7,Rfe1,g5,hxg5,hxg5,Bd2,Be5,Rac1,f4,bxc5,dxc5,e4,Qh7,gxf4,gxf4,Kf1,Qh3+,Ke2,Bg4+,f3,Qg2+,Kd1,Bxf3+,Kc2,Kf7,Kb1,Rh8,Rg1,Qxd2,Rc2,Qe3,Qb5,Qxg1+,Kb2,Qg7,Qd7+,Kg6', 'Qf5+,Kh6,Rh2+,Bh5,Rxh5#', 'https://lichess.org/training/NXeh3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nXEml', 'Blitz', 'Vrv3033', 2252, 'Fireontheboard26', 2175, 'd4,d5,c4,c6,Nf3,Nf6,e3,Bf5,Nc3,e6,Nh4,Be4,f3,Bg6,Qb3,Qc7,Bd2,Nbd7,O-O-O,Bd6,Nxg6,hxg6,h3,a6,Kb1,O-O,e4,dxc4,Bxc4,b5,Be2,Be7,e5,Nd5,Nxd5,cxd5,f4,Nb6,g4,Nc4,Bc1,a5,Bd3,a4,Qc2,b4,Qf2,b3,a3,Rfc8,f5,Qd7,fxg6,fxg6,Bxg6,Rf8,Qg3,Qc7,g5,Nxa3+,bxa3,Rf5,Qh4', 'Qc2+,Ka1,Qa2#', 'https://lichess.org/training/nXEml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NXf1Q', 'Blitz', 'FM Goi_Manne', 2395, 'kareElmoustapha', 2264, 'd4,d6,Nc3,Nf6,e4,c6,f4,Nbd7,Nf3,Qc7,e5,Nd5,Bc4,Nxc3,bxc3,c5,e6,fxe6,Bxe6,cxd4,Nxd4,Nc5,Bd5,e6,Bf3,Be7,O-O,O-O,Qe2,e5,Bd5+,Kh8,fxe5,Rxf1+,Qxf1,dxe5,Nf3,Be6,Bxe6,Nxe6,Bd2,Rf8,Qe2,Bc5+,Kh1,Bd6,Re1,Nf4,Bxf4,exf4,Qd3,h6,Nd4,Rf6,Re8+,Bf8,Ne6,Qe5,Nxg7,Qa5,Ne6,Qe5,Nxf8,Qxe8', 'Qh7#', 'https://lichess.org/training/NXf1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nxf9T', 'Blitz', 'sreckojr', 2182, 'Pole05', 2191, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Qe7,Nxh8,d5,exd5,Nd4,O-O,Bg4,f3,Ne4,fxg4,Ne2+,Kh1,N4g3+,hxg3', 'Nxg3+,Kh2,Qh4#', 'https://lichess.org/training/Nxf9T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NXfJR', 'Classical', 'medsidielhouari', 2043, 'yanamar', 2194, 'e4,c5,c3,Nc6,d4,d5,e5,Bf5,Nf3,e6,Be2,cxd4,cxd4,Bb4+,Nc3,Nge7,a3,Ba5,b4,Bb6,Bg5,Bg4,Bb5,O-O,Bxc6,bxc6,h3,Bxf3,gxf3,Qc7,Rg1,Nf5,Ne2,a5,Rc1,axb4,axb4,Ra2,Bf6,Kh8,Nc3,Rb2,Nb5,Qb8,Rxc6,gxf6,exf6,Qe5+,dxe5', 'Bxf2+,Kf1,Ne3#', 'https://lichess.org/training/NXfJR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nxh8o', 'Rapid', 'pezho001', 1735, 'veyxx', 1710, 'e4,e5,Bc4,Nc6,Qe2,Nf6,c3,Bc5,Bxf7+,Kxf7,Qc4+,Ke8,Qxc5,d6,Qe3,Rf8,d3,Ng4,Qg3,Qf6,f3,h5,h3', 'h4,Qxg4,Bxg4', 'https://lichess.org/training/Nxh8o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NXI3H', 'Rapid', 'cactus273', 1727, 'Mizuko', 1886, 'd4,b6,e4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Nf6,Qe2,d5,e5,Ne4,Bd2,Nxd2,Qxd2,Nc6,O-O,a5,a3,Be7,Nb5,O-O,Qf4,Ba6,Rac1,Nb8,c4,dxc4,Bxc4,c6,Nd6,Bxc4,Nxc4,Ra7,Rfd1,Rd7,Ncd2,h6,Ne4,c5,Qe3,cxd4,Rxd4,Na6,g3,Bc5,Rxd7,Qxd7,Nxc5,Nxc5,Qd4,Qc6,Nd2,Qb5,Nc4', 'Nb3,Qxb6,Qxb6,Nxb6,Nxc1', 'https://lichess.org/training/NXI3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nxi9C', 'Rapid', 'dl100', 1752, 'Arnavi', 1701, 'd4,d5,Bf4,Nc6,e3,Nf6,c3,e6,Nd2,Bd6,Bg3,Ne4,Bd3,Nxg3,hxg3,Qg5,Ne2,e5,f4,exf4,exf4,Qe7,Nf3,Bg4,Ne5,Bxe2,Qxe2,O-O,Bxh7+,Kh8,Qh5,g6,Bg8+,Kg7,Qh7+,Kf6,Qh4+,Ke6,Qg4+,Kf6,Qg5+,Kg7,Qxe7,Nxe7,Bxf7,Bxe5,fxe5,Kxf7,O-O-O,Ke6,g4,Rf2,Rhg1,Raf8,a3,Re2,Rd2,Re4,Kc2,Rxg4,Kb3,a6,Ka4,b6,b4,c6,Kb3,Nf5,Rf2,Rf7,Rff1,Ne3,Rxf7,Kxf7,Rh1,Nxg2,Rh7+,Ke6,Rc7,Rf4,Rxc6+,Kf5,Rxb6,g5,Rxa6,g4,Ra8,g3,Rg8,Rg4', 'Rxg4,Kxg4,e6,Ne3,e7,g2,e8=Q', 'https://lichess.org/training/Nxi9C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NXIPn', 'Rapid', 'SholpanGaitova', 2072, 'sagari', 2252, 'Nf3,Nc6,e4,Nf6,e5,Ng4,d4,d6,h3,Nh6,exd6,Qxd6,Bb5,Bd7,O-O,O-O-O,c3,a6,Ba4,Bf5,Bg5,f6,Bh4,e5,Bg3,Qd5,Bb3,Qd7,dxe5,fxe5,Qxd7+,Rxd7,Nxe5,Nxe5,Bxe5,Re7,Bf4,Re2,Nd2,Bc5,Rae1', 'Bxf2+,Rxf2,Rxe1+', 'https://lichess.org/training/NXIPn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nXJEi', 'Classical', 'Rocchetta', 2006, 'yesican2021', 1805, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Nf6,Nc3,Nxd5,d4,Nxc3,bxc3,e6,Nf3,Nc6,Bd3,Be7,O-O,Bf6,Re1,O-O,Rb1,b6,Bf4,Bb7,Bc2,Qd5,Qd3,g6,a3,Rfd8,h4,Na5,Rb4,Rac8,Be5,Bxe5,Rxe5,Qc6,Re3,Nc4,Ba4,Qc7,Re1,Bxf3,Qxf3,a5,Rb5,Nd2,Qf6,Qxc3,Rxe6,Qxd4', 'Re8+,Rxe8,Qxd4,Rc1+,Kh2', 'https://lichess.org/training/nXJEi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NxjPS', 'Rapid', 'yngcmpsr', 2027, 'crosky', 2279, 'c4,Nf6,g3,g6,Bg2,d5,cxd5,Nxd5,Nc3,Nb6,Nf3,Bg7,O-O,Nc6,d4,O-O,d5,Na5,e4,c6,dxc6,Nxc6,Qe2,Bg4,Rd1,Nd4,Rxd4,Bxd4,Bh6,Bg7,Bxg7,Kxg7,h3,Bxf3,Bxf3,e6,h4,Qc7,h5,Qc4,Qe3,Rad8,h6+,Kg8,Qf4,f6,Rc1,Qd4,Rd1,Qe5,Qe3,Rxd1+,Bxd1,Rd8,Bb3,Kf7,Kg2,Qd4,Qf4,Rd7,Qb8,Rd8,Qxb7+,Qd7,Qa6,g5,Qe2,Kg6,Qg4,f5,exf5+,exf5,Qh3,Qc6+,Kg1,Nc4,Bd1,g4,Bxg4,fxg4,Qxg4+,Kf7,Qg7+,Ke8,Qxh7,Nd2,Qg8+,Kd7,Qg7+,Kc8,h7,Qe8,Qxa7,Qe1+,Kg2', 'Qf1+,Kh2,Nf3#', 'https://lichess.org/training/NxjPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NxJSJ', 'Classical', 'JoeKer', 2086, 'kraspai', 1852, 'c4,Nf6,Nc3,e6,e4,c5,e5,Ng8,d4,cxd4,Qxd4,Nc6,Qf4,Nge7,Qg3,Qc7,f4,Nf5,Qf2,b6,Nf3,Bc5,Qd2,Be3,Qd1,Nb4,a3,Nc6,Ne4,Ncd4,Nxd4,Bxd4,g4,Nh4,Nd6+,Kf8,Be2,Qc6,Rf1,Ng2+,Kd2,Ne3,Qe1,Nxf1+,Qxf1,Bc5', 'Bf3,Qc7,Bxa8,Bxd6,exd6', 'https://lichess.org/training/NxJSJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NXMmG', 'Rapid', 'Tocs', 1700, 'clemenceparis', 1920, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,Nf3,Nf6,Nc3,Bg4,Be2,e6,h3,Bh5,g4,Bg6,Bd3,h6,a3,Be7,Rg1,O-O,h4,e5,d5,Nd4,g5,hxg5,hxg5,Nh5,Nxd4,exd4,Be2,dxc3,Bxh5,cxb2,Bxb2,Qa5+,Kf1,Qb5+,Qe2,Qb6,f4', 'Bxh5,Qxh5,Qxb2', 'https://lichess.org/training/NXMmG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NxnmM', 'Rapid', 'seb12', 1782, 'nlp2013', 2025, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Nxf3,c6,Bd3,Bg4,O-O,e6,Qe1,Be7,Ne5,Qxd4+,Kh1,Bh5,Rf4,Qd8,Rf1,Nbd7,Bg5,Nxe5,Qxe5,Bg6,Bxg6,hxg6,Rad1,Qb8,Qxb8+,Rxb8,Rd3,Rh5,Bxf6,gxf6,Rfd1,Rd8,Rxd8+,Bxd8,Ne4,Rd5,Rxd5,cxd5,Nd6+,Kd7,Nxb7,Bb6,a4,Kc7,a5,Kxb7,axb6,axb6,h4,Kc6,g4,Kc5', 'h5,gxh5,gxh5', 'https://lichess.org/training/NxnmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NXNTQ', 'Classical', 'SHATRU52', 1632, 'vinod8077', 1653, 'd4,b6,Nf3,Bb7,c4,e6,Bg5,f6,Bd2,g5,e3,Qe7,a3,h5,Bb4,d6,Bd3,g4,Bg6+,Kd8,Nfd2,Bxg2,Rg1,Bb7,Be4,Bxe4,Nxe4,f5,Ned2,h4,Qe2,a5,Bc3,Nf6,b4,axb4,Bxb4,Nc6,Bc3,e5,d5,Nb8,e4,f4,Nf1,f3,Qd3,Rg8,Bd2,Qh7,Nc3,Nbd7,Ne3,Nc5,Qc2,Bh6,Nf5,Bxd2+,Kxd2,Nfxe4+,Nxe4,Qxf5,Nxc5,Qf4+,Ke1,bxc5,Qh7,Qg5,Rb1,e4,h3,e3', 'Rxg4,Qxg4,hxg4', 'https://lichess.org/training/NXNTQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NXNXg', 'Rapid', 'NSR12', 1703, 'Teddyknightsx', 1632, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Nf3,Nxe5,Bxd7+,Nxd7,O-O,Ngf6,Bg5,Be7,Nbd2,h6,Be3,O-O,Nb3,b6,Ne5,Qc7,Nxd7,Nxd7,Qf3,c4,Nd2,Nf6,Bf4,Bd6,Bg3,Rab8,Rfc1,Bxg3,fxg3,Qd6,b3,b5,a4,a6,g4,Rb7,h4,e5,dxe5,Qxe5,Rf1,Re8,Rf2,Ne4,Nxe4,Qxe4,bxc4,dxc4,axb5,Qxf3,gxf3,axb5,Ra5,Re3,Rb2,Rxc3,Kg2,b4,Ra8+,Kh7,g5,hxg5,hxg5,Kg6,f4,Rd3,Rc8,c3,Rb3,Rd2+,Kf3,c2,Rc6+,Kh7,Ke4,Re7+,Kf5,Ree2', 'Rh3+,Kg8,Rc8+,Rd8,Rxd8+,Re8,Rxe8#', 'https://lichess.org/training/NXNXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nxPyt', 'Rapid', 'mosa1903', 1773, 'louisrivers', 1751, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Qf6,Nc3,Qxf3,Nxf3,h6,Nd5,Bd6,O-O,Nge7,d3,Nxd5,Bxd5,b6,b4,Bb7,a3,f5,c4,O-O-O,Bd2,fxe4,dxe4,g5,Bc3,Rde8,c5,bxc5,bxc5,Bxc5,Bxc6,Bxc6,Nxe5,Bxe4,Ng4,Rhf8,Bg7,Rf7,Bxh6,Bf5,h3,Bd6,Rfe1,Rh8,Bxg5,Bxg4,hxg4,Bh2+,Kf1,Bg3,Be3,Rhf8,Re2,Rh8,Ree1,Rhf8,Ra2,d6,Ke2', 'Rxf2+,Bxf2,Rxf2+,Kd1,Rxa2', 'https://lichess.org/training/nxPyt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nxq5z', 'Rapid', 'Zumbilangelo1996', 1813, 'lancer28', 1844, 'e4,c6,b3,d5,f3,dxe4,fxe4,e5,Nf3,Bg4,Be2,Bxf3,Bxf3,Nf6,O-O', 'Qd4+,Kh1,Qxa1', 'https://lichess.org/training/Nxq5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NxrAj', 'Rapid', 'dave55', 1817, 'impathak', 1854, 'd4,g6,Nf3,Bg7,e4,b6,Bd3,Bb7,O-O,d6,Be3,e6,Nc3,Ne7,Qd2,Nd7,a3,O-O,Bh6,a6,Bxg7,Kxg7,Rfe1,c5,d5,exd5,Nxd5,Nxd5,exd5,Bxd5,Qc3+,Qf6,Qd2,Bxf3,gxf3,Qxf3,Re3,Qf6,Rg3,Ne5,Be2,b5,Rd1,Rad8,Qd5,Qe6,Qb7,d5,Qc7,Rc8,Qa5,h5,Bxh5,Rh8,Be2,Rh4,Qd2,Rch8,Qxd5,Rxh2,Qxe6', 'Rh1+,Kg2,R8h2#', 'https://lichess.org/training/NxrAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NXrtf', 'Blitz', 'topalov82-top', 1631, 'edwynDABS', 2174, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,h3,Nbd7,Be2,e5,d5,Ne8,g4,a5,h4,Nc5,Be3,f5,gxf5,gxf5,Bxc5,dxc5,Rg1,Kh8,Qd2,Nd6,exf5,Bxf5,O-O-O,a4,Qe3,a3,Nxe5,axb2+,Kxb2,Qf6,f4,Nf7,Rxg7,Qxg7,Rg1,Qf6,h5,Qb6+,Ka1,Ra3', 'Nxf7+,Rxf7,Qe8+,Rf8,Qxf8#', 'https://lichess.org/training/NXrtf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nxSVy', 'Rapid', 'Jonas1234567', 1816, 'Surjeet064', 1801, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Nxe4,Qxd4,Nf6,Bg5,Nc6,Qh4,d5,Bd3,Be7,O-O,O-O', 'Bxf6,h6,Bxe7', 'https://lichess.org/training/nxSVy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NXu32', 'Classical', 'Beltrami86', 1739, 'gmvassil', 1753, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Nc3,Bg7,Bd2,d5,exd5,cxd5,b3,Bd7,Rb1,Nf6,Bg5,e6,Qe2,Qa5,b4,Qc7,Bxf6,Bxf6,Nxd5,Bc3+,Kd1', 'Qd6,Qd3,Qxd5,Qxd5,exd5', 'https://lichess.org/training/NXu32');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NxuaI', 'Blitz', 'reinevernunft', 1801, 'Iamsostupid', 1766, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,f3,Nc6,Qd2,Re8,O-O-O,Ne5,Nb3,Bd7,g4,Rc8,h4,Nc4,Bxc4,Rxc4,h5,Rxc3,Qxc3,Nxg4,Qd3,Nxe3,Qxe3,Qc7,hxg6,fxg6,Kb1,Rc8,Rh2,a6,Rdh1,b5,Rxh7', 'Qxc2+,Ka1,Qxb2#', 'https://lichess.org/training/NxuaI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nxx5v', 'Rapid', 'anakajaib', 1714, 'vleeshhd', 2102, 'e4,b6,d4,Bb7,Bd3,e6,Nf3,c5,c4,cxd4,Nxd4,Nc6,Nxc6,Bxc6,Nc3,Bb4,O-O,Bxc3,bxc3,Ne7,Ba3,Qc7,Qh5,Ng6,Qg5,f6,Qh5,O-O-O,c5,Ne5,Ba6+,Bb7,cxb6,axb6,Be2,Bxe4,c4,d6,Qh4,Bd3,Bxd3,Nxd3,Qe4,Ne5,f4,Qc6,Rfe1,Qxe4,Rxe4,d5,cxd5,exd5,Rc1+,Nc4,Re6,Kc7,Bb4,Rhe8,f5,g6,Rxf6,gxf5,Rxf5,b5,Ba5+,Kd6,Bxd8,Rxd8,Rf7,Ra8,Rxh7,Rxa2,Rb7,Kc6,Rb8,d4,h4,d3,Rd1,d2,Kf2,Rc2,h5,Rc1,Ke2,Nd6,Rxd2,Kc7,Rh8,b4,h6,b3,Rh7+,Kc6,Re7,Nc4,h7,Rh1,Re6+,Kc5,Rd7,b2,Rb7,Rxh7,Rb8,Rg7,Rc8+', 'Kd5,Rb8,Kxe6', 'https://lichess.org/training/Nxx5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nxyck', 'Rapid', 'SchlimmerGehtsImmer', 1757, 'beibit0901', 2104, 'e4,c5,Nf3,e6,d3,g6,Be3,b6,Nc3,Bg7,Qd2,Ne7,Bg5,O-O,Bh6,f5,Bxg7,Kxg7,exf5,exf5,O-O-O,d5,d4,c4,Ne5,Nbc6,Re1,a5,Bxc4,Nxe5,Bxd5,Nxd5,Rxe5,Nxc3,Qxc3,Re8,Rhe1,Rxe5,Rxe5,Ra7,d5,Rc7,Re7+,Kh6,Qh3+,Kg5,f4+,Kf6', 'Qh4+,g5,Qxg5#', 'https://lichess.org/training/nxyck');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nXYuD', 'Blitz', 'Georgii_2', 1646, 'Eliastein1', 1581, 'd4,Nf6,Nf3,e6,e3,d5,c3,c6,b3,b6,Bb2,Be7,Nbd2,Na6,Bd3,O-O,Qe2,Rb8,Bxa6,Bxa6,Qxa6,b5,a4,Rb6,Qxa7,bxa4,Qxa4,Qc7,O-O,Ne4,Nxe4,dxe4,Nd2,Bd6,g3,f5,Qa5,Rfb8,b4,Qf7,Nc4,Rb5,Qa7,Bf8,Qxf7+,Kxf7,Ra7+,Kf6,Rfa1,g5,Rxh7,Kg6,Raa7,g4,Rh8,Bh6,Rhh7,R5b6,Na5,Ra6,Rac7,Rxa5,bxa5,Rxb2,Rhe7,Kf6,Rh7,Kg6,Rhd7,Rb1+,Kg2,Rb2,Rxc6,Bxe3,Rdd6,Rxf2+,Kh1', 'Rf1+,Kg2,Rg1#', 'https://lichess.org/training/nXYuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nxzp8', 'Blitz', 'Lyon-Beast_56', 1927, 'tugrulsari', 1903, 'd4,d5,c4,Bf5,Nf3,dxc4,Nc3,h6,e4,Bg6,Bxc4,e6,Be3,Bb4,O-O,Bxc3,bxc3,Bxe4,Qe2,Nf6,Ne5,c6,f3,Bf5,g4,Bh7,g5,hxg5,Bxg5,Nbd7,Nxf7,Kxf7,Qxe6+,Kg6,Bd3+,Kxg5,h4+,Kh6', 'Qe3+,Kh5,Qg5#', 'https://lichess.org/training/Nxzp8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nY0ao', 'Rapid', 'B_A_H_O_O', 1956, 'Sizov_Sergey', 2089, 'c4,Nf6,Nc3,e5,Nf3,Nc6,g3,Bb4,Bg2,O-O,O-O,Re8,d3,Bf8,Be3,d6,Rc1,Bg4,h3,Bh5,a3,h6,b4,Rb8,b5,Ne7,Qb3,c5,Nh4,g5,Nf3,Nf5,g4,Nxe3,fxe3,Bg6,Nd2,Bg7,Nde4,Nxe4,Bxe4,Qd7,Bxg6,fxg6,Nd5,Rf8,Qd1,h5,gxh5,Qxh3,Ne7+,Kh7,hxg6+,Kh8,Qe1,Qg4+,Kh2,Qh5+,Kg2,Rxf1,Qxf1,Qg4+,Kh2,Rf8,Qh3+,Qh4,Qxh4+,gxh4,Kg2,Bf6,Nf5,Kg8,Nxd6,Bg5,Rf1', 'h3+,Kxh3,Rxf1', 'https://lichess.org/training/nY0ao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NY0kc', 'Rapid', 'Dani-B', 1911, 'celalkoc7', 1866, 'd4,g6,e4,Bg7,c3,b6,Nf3,e6,Bd3,Bb7,Be3,d6,Nbd2,Nd7,O-O,Ne7,Rc1,O-O,b4,a6,a4,h6,e5,dxe5,dxe5,Nxe5,Be4,Bxe4,Nxe4,Nxf3+,Qxf3,Nd5,Rfd1,Qe7,Bd4,Bxd4,Rxd4,Kg7,Rcd1,Rad8,b5,axb5,axb5,f5,Ng3,Qf6,c4,Nb4,Rd7+,Rxd7,Rxd7+,Rf7,Rxf7+,Kxf7,Qb3,Qa1+,Nf1,Qe1,g3,h5,Kg2,Qe4+,Kg1,Nc2,h4,Nd4,Qe3,Nf3+,Kh1,Nxh4+', 'Qxe4,fxe4,gxh4', 'https://lichess.org/training/NY0kc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nY1H2', 'Rapid', 'austin829', 1600, 'GreenGhost', 1830, 'e4,b6,d4,Bb7,Nc3,e6,d5,exd5,exd5,Bb4,Ne2,Qe7,Be3,Nf6,a3,Bxc3+,Nxc3,c5,d6,Qe6,Nb5,Nd5,Bc4,Nxe3', 'Nc7+,Kf8,Nxe6+', 'https://lichess.org/training/nY1H2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ny4oX', 'Rapid', 'Mmatasoy', 1703, 'alezandrian', 1667, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,a6,d3,h6,c3,Nf6,Re1,O-O,d4,exd4,cxd4,Ba7,Nc3,Re8,e5,Nh7,Be3,Ne7,d5,b5,Bb3,Bxe3,Rxe3,c6,e6,dxe6,dxe6,Qxd1+,Rxd1,f6,Ne4,Nf5,Red3,Bxe6,Bxe6+,Rxe6,Nc5,Ree8,Nd4,Rad8,g3,Rd5,Ncb3,Ng5,Nxc6,Rxd3,Rxd3,Re1+,Kg2,Re2,Rd2', 'Ne3+,Kh1,Re1#', 'https://lichess.org/training/ny4oX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ny7La', 'Rapid', 'kyck01', 1656, 'Corvo03', 1731, 'c4,Nf6,Nc3,e6,g3,Nc6,Bg2,Be7,Nf3,O-O,O-O,d5,cxd5,exd5,d3,Be6,e4,dxe4,dxe4,Bc5,e5,Nd5,Nxd5,Bxd5,Re1,Re8,b3,Rb8,Bb2,Bb6,Qc2,Qe7,Rad1,Be6,Rd2,Ba5,Bc3,Bxc3,Qxc3,Rbd8,Red1,Rxd2,Rxd2,Bg4,Qc1,Bxf3,Bxf3,Qxe5,Qd1,Qf6,Bg2,Qe6,Rd7,Rc8', 'Bxc6,Qxc6,Rd8+,Qe8,Rxe8+', 'https://lichess.org/training/ny7La');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NYAM0', 'Classical', 'chessmaster060', 1669, 'hassanfallah64', 1728, 'e4,e6,d4,Bb4+,c3,Ba5,b4,Bb6,f3,Nf6,g4,h6,Bd3,a6,Be3,d6,Ne2,Nfd7,Nd2,e5,f4,g6,fxe5,dxe5,Rf1,Qh4+,Bf2,Qxg4,Ng3,Qh3,dxe5,Bxf2+,Rxf2,Nxe5,Bc4,Rf8,Qb3,Nbc6,O-O-O,Bd7,Rdf1,Nd8,Nf3,Nxc4,Qxc4,Be6,Qxc7,Rc8,Qe5,Nc6,Qf6,Nxb4,a3,Nd3+,Kd2,Nxf2,Rxf2,Bb3,Nd4,Qd7,e5,Rc6,Qf4,g5,Qf3,Qd5,Qf5,Bc4,Ke3,Rb6', 'Qc8+,Qd8,Qxc4', 'https://lichess.org/training/NYAM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nYbJw', 'Rapid', 'puiu12', 1525, 'r_p_b', 1518, 'd4,e6,a3,Nf6,Bg5,d5,Nc3,Nc6,e3,Be7,Bb5,O-O,Nf3,a6,Bd3,Na7,Ne5,c6,Qf3,h6,Bh4,Nb5,Nxb5,axb5,b4,Nd7,Bxe7,Qxe7,Nxd7,Bxd7,O-O,b6,c3,c5,Rfb1,c4,Bc2,e5,Bf5,exd4,exd4,Bxf5,Qxf5,Rfe8,Qxd5,Qh4,Re1,Rxe1+,Rxe1,Rxa3', 'Re8+,Kh7,Qf5+,g6,Qxf7#', 'https://lichess.org/training/nYbJw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nYbxb', 'Rapid', 'RoepStoep', 2092, 'hamahangh1346', 2098, 'e4,e5,f4,Nc6,Bc4,exf4,d4,Qh4+,Kf1,d6,Nc3,Bg4,Qd2,g5,g3,fxg3,Kg2,gxh2,Rxh2,Bf3+,Nxf3,Qg4+,Kf2,Nf6,Qxg5,Be7,Rh4,Qxg5,Nxg5,Nxd4,Bxf7+,Kd7,Be3,Nxc2,Be6+,Kc6,Rc1,Nxe3,Nd5+,Kb5,Nxe7,h6,Nf7,Rhe8,Kxe3,Rxe7,Bc4+,Kb6,Nxh6,Rh8,Nf5', 'Rxh4,Nxe7,Rxe4+,Kd2,Rxe7', 'https://lichess.org/training/nYbxb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NyC6T', 'Classical', 'MohamedHafez12', 1637, 'zacty', 1618, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qe7,Bd3,Nxd4,O-O,Nf6,e5,Nd5,Bc4,Qc5,Bxd5,Qxd5,c3,Bc5,cxd4,Bxd4,Be3,c5,Nc3,Qxe5', 'Bxd4,cxd4,Re1', 'https://lichess.org/training/NyC6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NycRa', 'Rapid', 'Huskygaze3', 1942, 'nikitin19666', 1935, 'd4,d5,Nf3,c6,e3,Bf5,Bd3,Bxd3,Qxd3,e6,O-O,Nd7,Nbd2,Bd6,c4,Ngf6,e4,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qe2,O-O,Rd1,h6,b3,Qc7,Bb2,Be7,Ne5,Rad8,Rd3,Nd7,Nf3,Bf6,Rad1,Nb6,a4,Nc8,Ne5,Bxe5,dxe5,Rxd3,Rxd3,Rd8,Qd2,Rxd3,Qxd3,Ne7,Qd6,Qa5,g3,Nf5,Qb8+,Kh7,Qxb7,Qe1+,Kg2,Qe2,Bc1,Qe4+,Kh3,h5,Bf4,Qf3,Qxf7,Qg4+,Kg2', 'Nh4+,Kf1,Qd1#', 'https://lichess.org/training/NycRa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nYcTR', 'Blitz', 'Bielik1969', 1762, 'hernan_dudu', 1745, 'd4,d5,Bg5,h6,Bh4,Nd7,e3,Ngf6,Be2,c5,c3,e6,Nf3,Be7,Nbd2,cxd4,cxd4,O-O,O-O,b6,a3,Bb7,b4,Nh7,Rc1,Bxh4,Nxh4,Qxh4,Rc7,Bc8,Bb5,Ndf6,Bc6,Rb8,Rxa7,Ng4,h3,Ngf6,Nf3,Qh5,Qc2,Ng5,Ne5,Nge4,Rc7,Qg5,Nf3,Qg6,Ne5,Qg5,Nf3,Qg6,Nh4,Qg5,Nf3,Qh5,Ne5,Ng5,a4,Ng4,hxg4,Qh4,Bd7,Bxd7,Nxd7,Qxg4,Nxf8', 'Nf3+,Kh1,Qh4#', 'https://lichess.org/training/nYcTR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NyDQO', 'Rapid', 'anuj_98', 1867, 'vandeka', 1719, 'e4,d5,exd5,Qxd5,Nc3,Qd8,g3,e6,Bg2,c6,Nge2,Nf6,O-O,Bd6,d4,O-O,Bg5,h6,Bf4,Qc7,Bxd6,Qxd6,Nf4,Nd5,Ne4,Qe7,Nd3,f5,Nec5,b6,Nb3,f4,c4,fxg3,cxd5,gxh2+,Kh1,exd5,Qh5,Rf5,Rae1,Qxe1,Qxf5', 'Qxf1+,Bxf1,Bxf5', 'https://lichess.org/training/NyDQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NyDyY', 'Rapid', 'Heartless_MF', 1911, 'Luito', 2054, 'e4,d6,d4,g6,Nc3,Bg7,f3,c6,Be3,b5,Qd2,Nd7,g4,Qc7,Nh3,a6,O-O-O,c5,dxc5,Nxc5,Nd5,Qc6,Bd4,Bxd4,Qxd4,e5,Qe3,Be6,Qg5,h6,Nf6+,Nxf6,Qxf6,O-O,g5,Rac8,gxh6', 'Nb3+,Kb1,Qxc2#', 'https://lichess.org/training/NyDyY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nyehw', 'Blitz', 'lentopastel', 1920, 'NosrednA', 1805, 'e4,c6,Nf3,Qc7,d4,d6,e5,Bg4,exd6,exd6,Bc4,d5,Bd3,Bd6,h3,Bh5,Be3,Ne7,Nbd2,Nd7,c3,Nf6,Rc1,O-O,Bb1,Rae8,Kf1,Bg6,Bxg6,Nxg6,g4,Ne4,Nxe4,Rxe4,Ng5,Re7,Qf3,h6,h4,hxg5,hxg5,Bf4,Qh3,Rfe8,Re1,Bxe3', 'Qh7+,Kf8,Qh8+,Nxh8,Rxh8#', 'https://lichess.org/training/Nyehw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NYEoK', 'Blitz', 'Nofian', 1927, 'saiPash', 1816, 'f4,d6,d4,c5,e3,cxd4,exd4,Nf6,c3,Nc6,Nf3,Bg4,Bd3,g6,O-O,Bg7,Nbd2,O-O,Qe1,Qb6,Kh1,Rac8,Ne4,Nd5,Bc4,Nf6,Nxf6+,Bxf6,Ng5,h6,Ne4,Bg7,Qh4,Bf5,Ng3,Nxd4,cxd4,Rxc4,Nxf5,gxf5,b3,Rc2,Be3,Qc6,Rf3,Kh7,Raf1,Bf6,Qh5,e6,Rh3,Bg7,Rff3,Rxa2,Rfg3,Ra1+,Bg1,Rg8', 'Rxg7+,Rxg7,Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/NYEoK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NYg1O', 'Rapid', 'dukes', 1608, 'krokodil2002', 1717, 'c4,e6,Nc3,g6,Qc2,Bg7,d3,Ne7,Nf3,O-O,e4,b6,Be2,Bb7,Rb1,c6,b3,d5,exd5,cxd5,cxd5,exd5,O-O,d4,Ne4,Bxe4,dxe4,Nbc6,Bb2,Nb4,Qc4,a5,a3,Nbc6,Rfd1,Rc8,Qb5,Re8,Nxd4', 'Nxd4,Bxd4,Bxd4', 'https://lichess.org/training/NYg1O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NygeQ', 'Blitz', 'FM speshu', 2400, 'Euler94', 2117, 'Nf3,d5,c4,dxc4,Na3,Nf6,Nxc4,c5,d4,cxd4,Qxd4,Qxd4,Nxd4,Bd7,Ne5,Nc6,Ndxc6,Bxc6,Nxc6,bxc6,g3,O-O-O,Bg2,Kb7,Be3,Nd5,Bc5,e6,Rc1,Bxc5,Rxc5,Rd6,a3,Rhd8,O-O,e5,e4,Nb6,Rxe5,Nc4,Rf5,f6,Rc5,Nxb2,Rb1,Rd1+,Rxd1,Rxd1+,Bf1,Nd3,Rc3,Ne5,f4,Ng4,h3,Nh6,Kf2,Nf7,Be2,Ra1,Bc4,Nd6,Bd3,a6,e5,fxe5,fxe5,Nb5,Rb3,Kc7,Bxh7,Nxa3,Rd3,Ra2+,Ke3,Nc4+,Kd4,Nb6,Ke4,Nd7,Bg8,Nc5+,Kf5', 'Rf2+,Kg6,Nxd3', 'https://lichess.org/training/NygeQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nYHKs', 'Blitz', 'FoxyPawn', 1826, 'vvocko', 1771, 'e4,f5,e5,e6,d4,d5,exd6,cxd6,Nc3,d5,Nf3,Nf6,Bd3,Be7,Qe2,O-O,O-O,a6,Ng5,Nc6,Nxe6,Bxe6,Qxe6+,Kh8,Bxf5,Nxd4,Qe5,Nxf5,Qxf5,Ne4,Qh3,Bc5,Nxe4,dxe4,Be3,Bxe3,Qxe3,Qe7,Rad1,Rae8,Rd4,Qe6,b3,Qg4,Re1,Rf3,Rxe4,Rxe3', 'Rxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/nYHKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NYhsE', 'Rapid', 'AB123456', 1784, 'chessnonsense2345', 1749, 'd4,d5,c4,e6,e3,Nf6,Nf3,Bd7,Nc3,c5,cxd5,Nxd5,Nxd5,exd5,b3,Nc6,Ba3,Be7,dxc5', 'Qa5+,Qd2,Qxa3', 'https://lichess.org/training/NYhsE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NyIfz', 'Rapid', 'ElSupremo04', 2060, 'S7R4NG3R', 1912, 'e4,e6,c4,f5,exf5,exf5,Bd3,d5,Ne2,Nf6,Qc2,g6,O-O,Bg7,Nbc3,d4,Nb5,c5,b4,a6,Na3,cxb4,Qa4+,Nc6,Nc2,O-O,Nxb4,Bd7,Qa3,Re8,Bb2,Ne5,Nxd4,Bc8,Nf3,Nxf3+,gxf3,Nh5,Bxg7,Kxg7,Nd5,Be6,Rfe1,Bxd5,Rxe8', 'Qg5+,Kf1,Rxe8', 'https://lichess.org/training/NyIfz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NyiQv', 'Rapid', 'masteraydin', 2242, 'Beauvain', 2269, 'e4,e5,Nf3,Nc6,Bb5,f5,Bxc6,dxc6,Nc3,fxe4,Nxe4,Nf6,Qe2,Bg4,h3,Bh5,Ng3,Bxf3,Qxe5+,Qe7,Qxe7+,Bxe7,gxf3,O-O-O,d3,Nd5,Bd2,Rhf8,Ke2,Nf4+,Bxf4,Rxf4,Nh5,Rf7,Rhg1,g6,Ng3,Rdf8,Ne4,Rxf3,Rg3,R3f7,Rf1,Rf5,a3,Rb5,b4,Rbf5,f3,Bf6,Nxf6,R8xf6,Rg4,Kd7,Rh4,h5,Re4,Rf4,c3,R6f5,Rxf4,Rxf4,Ke3,Rf6,Rg1,Ke6,Ke4,b6,f4,Kd6,c4,a6,a4,b5,axb5,cxb5,c5+,Kc6,Ke5,Rf5+,Ke4,Rf6,Rg5,Kd7,Ke5,Ke7,d4', 'Re6+,Kd5,c6#', 'https://lichess.org/training/NyiQv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nyIR7', 'Rapid', 'KiBZ_chess', 1876, 'Sergey7776', 1955, 'd4,c5,d5,e5,c4,d6,e4,g6,Nf3,Bg7,Nc3,Ne7,Be3,O-O,Qd2,a6,h4,f5,Ng5,f4,Bxc5,dxc5,h5,h6,d6,Nec6,Qd5+,Kh8,Nf7+,Rxf7,Qxf7,Qxd6,Rd1,Nd4,hxg6,Qf8', 'Rxh6+,Bxh6,Qh7#', 'https://lichess.org/training/nyIR7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nyirI', 'Rapid', 'hurricann', 1969, 'lazykrle', 1954, 'e4,c5,c3,d6,h3,Bd7,Nf3,Nf6,e5,dxe5,Nxe5,g6,Bc4,Bg7,Nxf7,Qc7,Nxh8,Bxh8,Qb3,e6,Bxe6', 'Qe5+,Kd1,Bxe6', 'https://lichess.org/training/nyirI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NYJZ7', 'Blitz', 'rookieknight', 1935, 'JohannesJRL', 1907, 'e4,d5,f4,dxe4,d3,exd3,Bxd3,Nc6,Nf3,Nb4,O-O,Nxd3,cxd3,Bf5,Nc3,Qxd3,Qa4+,Qd7,Qb4,e6,Qxb7,Bc5+,Kh1,Qd3,Qxa8+,Ke7,Rd1,Qa6,Bd2,Nf6,Qxh8,Ng4,Be1', 'Qf1+,Ng1,Qxg1#', 'https://lichess.org/training/NYJZ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NYKFq', 'Blitz', 'Zhetov', 2036, 'MFigueiredo', 1984, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qd2,Be7,O-O-O,Qc7,f4,Nbd7,Nb3,b5,Bxf6,Nxf6,g4,Bb7,Bg2,Rc8,Rhg1,b4,Ne2,Nxe4,Bxe4,Bxe4,Ned4,e5,Qe2,Bb7,fxe5,dxe5,Nf5,Bg5+,Kb1,O-O,h4,Bf4,g5,Rcd8,h5,Rxd1+,Rxd1,Bxg5,Rg1,Bf6,Nxg7,Kh8,Nf5,Qd7,Qg4,Rd8,h6,Bc8,Qg7+,Bxg7', 'hxg7+,Kg8,Nh6#', 'https://lichess.org/training/NYKFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nykl2', 'Rapid', 'LenovoK10', 1665, 'LlamaOfOz', 1655, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bd6,d3,a6,Bxc6,dxc6,Re1,O-O,d4,Re8,dxe5,Bxe5,Qxd8,Bxh2+,Nxh2,Rxd8,Bg5,h6,Bf4,Nxe4,Rxe4,Rd1+,Nf1,Bf5,Nc3,Rxa1,Re7,Bxc2,Rxc7,Bd3,Rxb7,Rxf1+,Kh2,Rxf2,Bg3,Rf5,Nd1,Rd8,Ne3,Rh5+,Kg1,Bb5,b3,Rd2,a4,Rg5,Bf4,Rc5,axb5,cxb5,Nf1,Rb2,Ra7,Rxb3,Rxa6,Rc4,Nd2,Rc1+,Nf1,Rcc3,Ra8+,Kh7,Ra1,g5,Be5,Rc8,Ra7,Kg6,Ra6+,Kf5,Bd4,h5,Rf6+,Kg4,Nh2+,Kh4,Bf2+,Rg3,Bxg3+,Kxg3', 'Rf3+,Kh4,Rh3#', 'https://lichess.org/training/Nykl2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NYkZ6', 'Rapid', 'kNightWhacker', 1835, 'hafezz93', 2075, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,c5,Be3,Nc6,Bb5,cxd4,Nxd4,Ncxe5,Qh5,Ng6,O-O,Be7,f4,O-O,Bxd7,Bxd7,f5,exf5,Nxf5,Bxf5,Rxf5,d4,Rd1,Qb6,Rb5,Qe6,Bxd4,b6,Qf3,Rad8,Rd5,Nh4,Qh5,Ng6,g3,Bf6,Bxf6,Qxf6,Rxd8,Rxd8,Rxd8+,Qxd8,Kg2,Qd2+,Qe2,Qd7,Qe3,f6,Qd3,Qxd3,cxd3,Ne5,d4,Nc6,d5,Ne7,Kf3,Kf7,g4,Ke8,Ke4,Kd7,a3,a6,Kd4,g6,Ne4,Ng8,h4,Ke7,b4,Nh6,g5,fxg5,hxg5,Nf5+,Ke5,Ne3,d6+,Kf7,d7,Ke7,Nf6,Nc4+,Kd5,Nxa3,Kc6,Nc4,Kc7,Nd6,Nd5+,Ke6,Nxb6,Nf7,Nc8,Kf5,d8=Q', 'Nxd8,Kxd8,Kxg5,Kc7,h5', 'https://lichess.org/training/NYkZ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NYlii', 'Classical', 'CecilPurdy', 1976, 'vadimdi09', 1916, 'Nc3,c5,e4,e6,f4,Nc6,Nf3,d6,Be2,Qc7,O-O,Nf6,e5,dxe5,fxe5,Nxe5,d4,cxd4,Qxd4,Bc5,Bb5+,Bd7,Bxd7+,Nfxd7,Be3,Bxd4,Bxd4,Nxf3+,Rxf3,f6,Nb5,Qc4', 'Nd6+,Ke7,Nxc4', 'https://lichess.org/training/NYlii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NyOe4', 'Bullet', 'amcmillian7', 1669, 'Kaora', 1614, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,Ng8,c3,dxc3,Nxc3,Bb4,O-O,Bxc3,bxc3,Nge7,Bxf7+,Kxf7,Qb3+,Kf8,Ng5,Qe8,Rd1,h6,f4,hxg5,fxg5,Qg6,Rf1+,Ke8,Ba3,Qh5,h3,Qxg5', 'Qf7+,Kd8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/NyOe4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nyOL0', 'Rapid', 'Lediknov777', 1942, 'Tsar_Leonid', 1903, 'e4,c5,Bc4,d6,Nf3,Nc6,O-O,e5,c3,Nf6,Re1,Bg4,d3,Be7,Be3,O-O,Nbd2,Na5,Bb5,a6,Ba4,b5,Bc2,Qc7,Rc1,h6,h3,Be6,b4,Nc6,bxc5,dxc5,Qe2,Bxa2,c4,bxc4,dxc4,Nb4,Nh4,a5,Ba4,Nxe4,Nxe4,Bxh4,Bxc5,Be7,Bxb4,axb4,Qxa2,b3,Qxb3,Rfb8,Bb5,Ra3,Qb2,Rba8,Rcd1,Bc5,Nxc5,Qxc5,Qxe5,Qb4,Re3,Ra2,Rg3,g6,Rd7,Qb1+,Kh2,Ra1,Rgd3,Qg1+,Kg3,R1a3,f3,Rxd3,Rxd3,h5,Rd7,h4+,Kxh4,Qf2+,Qg3', 'g5+,Kg4,f5+,Kh5,Qxg3', 'https://lichess.org/training/nyOL0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NYP2r', 'Classical', 'santirosario', 2066, 'Abu-Ghassan', 2006, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Nf6,O-O,O-O,h3,h6,Re1,c5,c3,c4,Bc2,b5,Nbd2,Nc6,Nf1,a5,Ng3,b4,Ba4,Ne7,Ne5,Nd7,Bc2,Nxe5,dxe5,Bc5,Qh5,Qb6,Re2,d4,cxd4,Bxd4,Ne4,Qg6', 'Nf6+,gxf6,Bxg6', 'https://lichess.org/training/NYP2r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nYrcG', 'Rapid', 'fridtjoff', 1743, 'MOHAMAD197676', 1749, 'c4,e5,g3,Nf6,Bg2,c6,d4,Bb4+,Bd2,Bxd2+,Qxd2,e4,Nc3,d5,cxd5,cxd5,Nh3,Bxh3,Bxh3,Nbd7,O-O,Nb6,Qc2,h5,Qb3,h4,Bg2,hxg3,fxg3,Ng4,h4,Rxh4,gxh4,Qxh4,Qb5+,Nd7,Rf5', 'Qh2+,Kf1,Ne3+,Kf2,Nxf5', 'https://lichess.org/training/nYrcG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nyrg4', 'Blitz', 'iamthelonewolf', 1631, 'bokken', 1837, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Bd7,Nc3,g6,Be3,Bg7,Qd2,Nf6,f3,O-O,O-O-O,Nc6,Kb1,Rc8,Bc4,a6,Bb3,Ne5,h4,Nh5,g4,Nxg4,fxg4,Bxg4,Rdg1,Qd7,Qg2,Nf6,Nf3,Bh5,Ng5,e6,Ne2,b5,Nf4,a5,Ngxe6,a4,Nxg7,Kxg7,Nxh5+,Nxh5,Bd5,b4,Qg5,Qc7,Bd4+,f6,c3,bxc3,Qxh5,cxb2,Qe2,a3,h5,Rh8,hxg6,hxg6,Rxh8', 'Qc1+,Rxc1,bxc1=Q#', 'https://lichess.org/training/Nyrg4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nYTb2', 'Rapid', 'Kenzito', 1738, 'tebetian', 1748, 'f4,f5,e3,Nf6,Nf3,d6,Be2,Nc6,d4,e6,O-O,Ne4,c4,Be7,d5,exd5,cxd5,Nb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/nYTb2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NYU5K', 'Blitz', 'Rodsal_Youtube', 2135, 'Jebatdurhaka', 2267, 'e4,c5,Nc3,Nc6,d3,g6,Nf3,Bg7,Be2,Nf6,O-O,d6,h3,O-O,Nh2,e5,f4,Nd4,g3,b5,Nd5,Nxd5,exd5,Bxh3,Rf2,Nxe2+,Qxe2,Qd7,g4,exf4,Qf3,Bd4,Qxh3,Rae8,Bxf4,Re2,Bg3,Rxc2,Nf3,Bxf2+,Bxf2,Rxb2,Kg2,Qe7,Rh1,f5,Kg3,fxg4,Qxg4,Rxf3+,Qxf3,Qg5+,Kh2,Rxa2,Rf1,Qf5,Qg3,Qxd5,Kg1,Qe5,Qg2,Ra4,Bg3,Qd4+,Kh1,Qxd3', 'Qa8+,Kg7,Qf8#', 'https://lichess.org/training/NYU5K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nYWml', 'Rapid', 'checkmonk', 1936, 'andrei31', 1964, 'e4,d6,d4,Nf6,Bd3,g6,c4,Bg7,Nc3,O-O,f3,c6,Be3,Qc7,Qd2,a5,g4,Na6,h4,Rd8,h5,e5,d5,cxd5,Nxd5,Nxd5,cxd5,Nb4,hxg6,hxg6,Bh6,Nxd3+,Qxd3,Bxh6,Rxh6,Qb6,Ne2,Qxb2,Rd1,Qb4+,Kf2,b6,Rdh1,Ba6,g5,Kf8,Qd1,Bxe2,Qxe2,Qd4+,Kg3,Ke7,Rd1,Qa4,Rhh1,Rac8,Qa6,Qb4', 'Qb7+,Rc7,Qxc7+', 'https://lichess.org/training/nYWml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NYwXI', 'Blitz', 'MaHdIeBrAhImI', 1910, 'AMShD', 1890, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,h3,Nf6,d3,Bb4,Bd2,Be6,a3,Bxc3,Bxc3,d5,exd5,Bxd5,Bxd5,Qxd5,Qe2,Nd7,Qe3,O-O,O-O,f5,Rfe1,Rae8,Re2,Nf6,Qd2,e4,Bxf6,exf3,Rxe8,Rxe8,Bc3,fxg2,Qg5,g6,Qxg2,Qxg2+,Kxg2,Re2,Rc1,g5,Bf6,h6,c4,Kf7,Bc3,h5,Re1,Rxe1,Bxe1,g4,h4,Nd4,Bc3,c5', 'Bxd4,cxd4,Kg3,Kf6,Kf4', 'https://lichess.org/training/NYwXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nyx8v', 'Rapid', 'vaishnavikrishna', 1716, 'TheMean', 1725, 'e4,e5,Nf3,Nc6,Be2,Nf6,d3,Bc5,Nc3,O-O,O-O,h6,Bd2,a6,Qc1,Kh7,Na4,Ba7,c4,d6,Nc3,Bg4,Qe1,Bxf3,Bxf3,Nd4,Bd1,c6,Be3,Qd7,b3,Ng4,Bxg4,Qxg4,Qd2', 'Nf3+,Kh1,Nxd2', 'https://lichess.org/training/Nyx8v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nYxEF', 'Rapid', 'gengeiskahn', 1760, 'Skytazz', 1738, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,Bf5,Nf3,a6,e3,h6,Bd3,Bxd3,Qxd3,dxc4,Qxc4,b5,Qd3,Nbd7,Ne5,Nxe5,Bxe5,Ng4,Bg3,e5,Ne2,Bb4+,Kf1,O-O,Rd1,exd4,Nxd4,c5,Nc6,Qxd3+,Rxd3,c4,Rd4,Nxe3+,fxe3,Bc5,Re4,Rac8,Ne7+,Bxe7,Rxe7,b4,Bd6,Rfd8,Bxb4,Rd1+,Be1,Rb1,Rb7', 'c3,bxc3,Rxb7', 'https://lichess.org/training/nYxEF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nyxPI', 'Rapid', 'nottomention', 1909, 'sickmyduck310', 1950, 'd4,d5,c4,e6,Bf4,a6,e3,Bd6,Bg3,Nf6,Nc3,dxc4,Bxc4,b5,Bb3,Bb7,Nf3,O-O,O-O,Nbd7,a3,Nb6,Bc2,g6,e4,Bxg3,fxg3,Nfd7,e5,Nc4,Re1,Nxb2,Qc1,Nc4,Qh6,Bxf3,gxf3,c5,Re4,f5,Rh4,Rf7,g4,fxg4', 'Bxg6,Rg7,Bxh7+', 'https://lichess.org/training/nyxPI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nYXvx', 'Blitz', 'ceaser80', 2215, 'Zonkad', 2246, 'Nf3,Nf6,e3,e6,b3,b6,Bb2,Bb7,c4,c5,Be2,Be7,O-O,O-O,d4,d6,Nc3,cxd4,Nxd4,a6,Bf3,Qc8,Bxb7,Qxb7,Qf3,Qxf3,Nxf3,Nbd7,Rfd1,Rfd8,Rd2,Bf8,Rad1,Nc5,Ne1,Nfe4,Nxe4,Nxe4,Rc2,Rac8,f3,Nc5,Bd4,Nd7,Kf2,e5,Bb2,Nf6,e4,g6,Rcd2,Be7,Nc2,Nh5,g3,Ng7,Ne3,Ne6,Nd5,Bf8,Nxb6,Rb8,Nd5,a5,Nc3,Nd4,Na4,Bg7,Bxd4,exd4,Ke2,f5,Rxd4,Bxd4,Rxd4,fxe4,fxe4,Rb7,Rd5,Rf7,Rxa5,Rdf8,Kd3,Rf2,Nc3', 'R8f3+,Kd4,Rd2#', 'https://lichess.org/training/nYXvx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NyZ2x', 'Rapid', 'ahmed1111', 1922, 'SapunovVM', 1768, 'e4,c6,d4,d6,Nf3,h6,Bf4,g5,Bg3,Bg7,e5,g4,Nh4,dxe5,Bxe5,Qa5+,Nc3,Bxe5,dxe5,Qxe5+,Be2,h5,O-O,Nf6,f3,gxf3,Nxf3,Qc5+,Qd4,Qxd4+,Nxd4,Bg4,Bxg4,hxg4,g3,Nbd7,Rae1,e6,Nf5,O-O-O', 'Nd6+,Kc7,Nxf7', 'https://lichess.org/training/NyZ2x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nYzj9', 'Blitz', 'Crimsonarcher', 1524, 'Honeybadger101', 1535, 'd4,e6,e4,c5,d5,exd5,exd5,d6,Nf3,Nf6,g3,Be7,Bg2,Bg4,O-O,O-O,c3,b5,Qb3,a6,Nbd2,Nbd7,c4,bxc4,Nxc4,Nxd5,Bd2,N5f6,Bc3,Bxf3,Bxf3,Rb8,Qc2,Ne5,Nxe5,dxe5,Bxe5,Rb5,a4,Rb4,Bc3,Rc4,Qb3,Rxc3,Qxc3,Nd5,Bxd5,Qxd5,Rad1,Qh5,Rfe1,Bf6,Qc2,Bd4,Qe2,a5,Qd2,Qf5,Qxa5', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/nYzj9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nz1Do', 'Rapid', 'eMSyarief', 1651, 'Bietnixhoch', 1650, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,d3,Be7,Be3,Bg4,Qe2,c6,h3,Bh5,g4,Bg6,Nh4,Nxe4,Nxe4,Bxh4,Nd2,Nd7,O-O-O,b5,Bb3,a5,a3,Nc5,Ba2,b4,a4,Nxa4,d4,exd4', 'Bg5+,Kd7,Bxd8', 'https://lichess.org/training/nz1Do');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZ1hP', 'Rapid', 'dheitkam', 1778, 'Viktor1649', 1744, 'c4,c5,Nc3,e6,Nf3,Nc6,e3,a6,d4,cxd4,exd4,h6,Bd3,Nf6,O-O,Be7,b3,O-O,Bb2,d6,h3,e5,dxe5,dxe5,Qe2,Bd6,Rfd1,Qc7,Ne4,Nxe4,Qxe4,f5,Qd5+,Kh8,Bc2,Rd8,Qd2,e4,Nd4,Be5,Qe3,Nxd4,Bxd4,Bxd4,Rxd4,Rxd4,Qxd4,Be6,Rd1,Kh7,Qd6,Qf7,Rd2,Rc8,Bd1,Rc6,Qd4,Qc7,f3,Qf4,fxe4,Qxe4,Qxe4,fxe4,Bc2,Bf5,Kf2,Re6,Re2,g5,g4,Bg6,Ke3,Kg7,Kd4,Kf6,Bxe4,b6,Bd3', 'Rd6+,Kc3,Rxd3+', 'https://lichess.org/training/NZ1hP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZ37h', 'Blitz', 'kwayz', 1613, 'borguess', 1529, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Nc6,Bc4,a6,O-O,Qc7,Be3,Nf6,Qe2,b5,Bb3,b4,Na4,Nxe4,Bb6,Qf4,g3,Qf5,Bc2,d5,Nh4,Qe5,Nf3,Qf5,Nc5,Qf6,Nxe4,dxe4,Bxe4,Bb7,Rac1,Rc8,Bxc6+,Rxc6,Rxc6,Bxc6,Qxa6,Qxf3', 'Qc8+,Ke7,Qd8#', 'https://lichess.org/training/nZ37h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nz3gX', 'Blitz', 'Daniel_Motta', 1760, 'diegofp19', 1803, 'g3,e5,Bg2,Nc6,d3,Nf6,Nf3,Bb4+,c3,Bc5,b4,Bxf2+,Kxf2,Ng4+,Kf1,O-O,h3,Nf6,Kf2,d5,Rf1,e4,dxe4,Nxe4+,Kg1,Nxg3,Rf2,Re8,e3,Ne4,Nd4,Nxf2,Kxf2,Nxd4,cxd4,Qf6+,Bf3,Bxh3,Qh1,Bg4,Nd2,Bxf3,Nxf3,b6,Bd2,Qh6,Qg2,Re6,Rh1,Qg6,Qh2,h6,Qxc7,Rc6,Qb7,Rac8,Rg1,Qf5,Qxa7,Rc2,Ke2,Rxd2+,Kxd2,Rc2+,Ke1,Rc1+,Ke2', 'Qc2+,Nd2,Rxg1,Qa8+,Kh7', 'https://lichess.org/training/Nz3gX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nz5o8', 'Rapid', 'zoro55', 1855, 'HarmlessChessNub', 1701, 'e4,c5,Bc4,e6,Nc3,Nc6,a3,Nf6,Nf3,d5,exd5,exd5,Ba2,Be6,O-O,Be7,d3,O-O,h3,a6,Nh2,Bd6,f4,Nd4,f5,Nxf5,Ne2,Ng3,Nxg3,Bxg3,Rf3,Qd6,Nf1,Nh5', 'Nxg3,Nxg3,Bf4', 'https://lichess.org/training/nz5o8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nz6sA', 'Rapid', 'Ndjen', 1757, 'Rohwin_86', 1802, 'e4,e6,e5,d6,exd6,Qxd6,d4,Nf6,c3,Be7,Be2,O-O,Be3,Nc6,Nd2,e5,Nc4,Qe6,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qa5,O-O,Nd5,Bd2,Qb6,b3,Bg4,c4,Nb4,Be3,Bc5,Bxc5,Qxc5,a3,Nc6,b4,Qf5,b5,Ne7,Nd4,Bxe2', 'Nxf5,Bxd1,Nxe7+', 'https://lichess.org/training/Nz6sA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZ7oO', 'Rapid', 'SanjiroJovan', 1611, 'ugotforked', 1652, 'c4,e5,Nc3,Nf6,e4,Nc6,d3,Bb4,Bd2,O-O,Nf3,d6,Be2,Bg4,O-O,Re8,a3,Ba5,b4,Bb6,Rb1,a6,h3,Bh5,Nd5,Nxd5,exd5,Nd4,Nxd4,Bxe2,Nxe2,Qh4,Ng3,c6,a4,cxd5,a5,Bd4,cxd5,Rac8,Qf3,g6,Be3,Bc3,Rbc1,Bxb4,Rxc8,Rxc8,Rb1,Rc7,Rxb4,Qxb4,Bb6,Rc1+,Kh2,Rc3,Ne4,Rb3,Nf6+,Kf8,Nxh7+,Kg7,Ng5,Qf4+,Qxf4,exf4,d4,Kf6,Ne4+,Ke7,h4,Rb2,f3,f5,Ng5', 'Rxb6,axb6,a5,Ne6,a4,Nxf4,a3', 'https://lichess.org/training/NZ7oO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZamM', 'Blitz', 'mr_moo', 1545, 'InRussiaKarpovDriveU', 1516, 'e4,c5,c4,e6,Nc3,Nc6,Nf3,Qc7,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,g6,b3,Bg7,Bb2,O-O,Qe2,d5,e5,Nd7,f4,Nc5,O-O,Nxd3,Qxd3,Rd8,cxd5,cxd5,Nb5,Qb6+,Bd4,Qa6,a4,Qb7,Rac1,a6,Nd6,Rxd6,exd6,Bxd4+,Qxd4,Qxb3,Rxc8+,Rxc8,d7,Rd8,Qa7,Qb8', 'Qxb8,Rxb8,Rc1,Kg7,Rc8', 'https://lichess.org/training/nZamM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nzBRz', 'Classical', 'Tsukuyominfinito', 2124, 'olazabal1959', 2120, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,a4,Rb8,c3,h6,a5,Re8,d4,Bf8,dxe5,Nxe5,Nxe5,Rxe5,Bf4,Re8,Bc2,d6,b4,Bg4,Qd3,g6,Nd2,Bg7,Nb3,Nd7,Nd4,Qf6,Bg3,h5,Nc6,h4,Bxh4,Qxh4,Nxb8,Nxb8,Bb3,Nc6,f4,Qf6,g3,Nxb4,cxb4,Qd4+,Qxd4,Bxd4+,Kg2,Bxa1,Rxa1,Rxe4,h3,Rxb4,Bxf7+,Kxf7,hxg4,c5,Kf3,d5,f5,g5,Rc1,Rb3+,Kg2,c4,Rd1,Ra3,Rxd5,Rxa5,Rd7+,Kf6,Rd6+,Ke5,Re6+,Kd5,Rg6,c3,Rxg5,c2,f6+,Kd4,Rc5,Kxc5,f7,c1=Q,f8=Q+,Kd4,Qd8+,Ke3', 'Qg5+,Kd3,Qxc1', 'https://lichess.org/training/nzBRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZbXS', 'Rapid', 'Max06061987', 1623, 'Richard2274', 2267, 'd4,d5,c4,e6,Nc3,Be7,Nf3,Nf6,Bg5,O-O,cxd5,exd5,e3,h6,Bh4,c6,Bd3,Ne4,Bxe7,Qxe7,O-O,Bg4,Nxe4', 'dxe4,Bxe4,Qxe4', 'https://lichess.org/training/NZbXS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZcmQ', 'Blitz', 'Smowheer', 2113, 'Nu_ok', 1932, 'd4,e6,e4,b6,Nc3,Bb7,Bd3,Bb4,Qe2,f5,exf5,Bxg2,Qh5+,Kf8,Nf3,Bxh1,Be4,Nf6,Qg5,d5,Ne5,Bxe4,fxe6,Qe8,Bd2,Bxc3,Bxc3,Qxe6,O-O-O,Nc6,f3,Bf5,Nxc6,Qxc6,Bb4+,Kf7,Qxf5,Qd7,Qg5,h6,Qg3,a5,Rg1,Rhg8', 'Qg6+,Ke6,Re1#', 'https://lichess.org/training/nZcmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NzcXK', 'Bullet', 'Sadzin', 2410, 'musadlane', 2552, 'e4,c5,Nf3,Nc6,Bb5,Nf6,d3,Qa5+,Nc3,Nd4,Bc4,b5,Bb3,Nxb3,cxb3,d6,O-O,e6,d4,b4,e5,bxc3,exf6,gxf6,dxc5,Qxc5,bxc3,Bb7,Be3,Qh5,Nd4,Rg8', 'Qxh5,Rxg2+,Kh1,Rg5+,Qf3', 'https://lichess.org/training/NzcXK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZeCD', 'Blitz', 'Salem_Zankuli', 1763, 'Uragankuznetsov', 1740, 'e4,e5,Bc4,Nf6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Qh5+,Kg8,Ng5,Qf6,d3,Bc5,N1f3,Bf5,Qe8+,Qf8,Qxe5,Nc6,Qxc7,Re8+,Be3,Bxe3,fxe3,Rxe3+,Kd2,Re7,Qg3,h6,Nh3,Re6,Rae1,Rg6,Qc7,Qb4+,Kc1,Kh7,a3,Qb5,Nf4', 'Rc8,Qxc8,Bxc8,Nxg6,Kxg6', 'https://lichess.org/training/NZeCD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZEjU', 'Rapid', 'umutacar80', 1918, 'xingao', 1920, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Bg5,Qd6,Qf3,Bg4,Qf4,Qd4,c3,Qd6,e5,Bxf2+,Kxf2,Qc5+,d4,Qb6,b3,Nd7,Qxg4,Nxe5,Qe2,f6,Bf4,O-O,Bxe5,fxe5+,Ke1,exd4,Kd2,dxc3+,Nxc3,Qd4+,Kc2,Kh8,Rd1,Qc5,Rd2,b5,Kb2,Rae8,Qd3,Re1,Re2,Rexf1,Rxf1,Rxf1,Qd8+,Rf8,Re8,Qf2+,Ka3,Qc5+,Kb2,Qf2+,Re2', 'Qxe2+,Nxe2,Rxd8', 'https://lichess.org/training/nZEjU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZetN', 'Blitz', 'Gabriel_Madriaga08', 2097, 'Cpalmerov', 1619, 'e4,e6,Nf3,d5,exd5,exd5,d4,c5,dxc5,Bxc5,Bd3,d4,O-O,Bg4,Re1+,Ne7,h3,h5,Bg5,f6,Bf4,Nc6,Nbd2,Qd7,Nb3,Bd6,Bxd6,Qxd6,Be2,Kf7,Nfxd4,Nxd4,Nxd4,Rad8,c3,Qd7,Bc4+,Nd5,hxg4,hxg4,Bxd5+,Qxd5,Qxg4,Rh6,Qf5,Qd6,g3,Rdh8,Nf3,Rh5,Qe4,Qd7,Qc4+,Kg6,Qe4+,Kf7,Rad1', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/NZetN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nzFIf', 'Classical', 'Dmitriy561', 1823, 'walidd', 1865, 'e4,c5,Nf3,d6,h3,Nf6,Nc3,g6,d4,cxd4,Qxd4,Bg7,Nb5,a6,Nc3,Nc6,Qe3,O-O,Nd5,Nxd5,exd5,Qa5+,Bd2,Qxd5,Bc3,e5,b3,b5,Rd1,Qe6,Ng5,Qe7,Ne4,Rd8,Bd3,d5,Qb6,dxe4,Bxe4,Rxd1+,Kxd1,Qd6+,Kc1,Bh6+,Kb1,Bd7,Bf3,Qe6,Rd1,e4,Bg4,f5,Be2,Bg7,Bxg7,Kxg7,Qc7,Rd8,Qb7,Kh6,Qxa6,Nb4', 'Qxe6,Bxe6,Rxd8', 'https://lichess.org/training/nzFIf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nzGnG', 'Rapid', 'mert1982', 1758, 'Halilefealp', 1758, 'e4,e5,d3,Nc6,Nf3,Nf6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Be2,Ng4,O-O,d6,Bg5,f6,Bh4,g5,Bg3,a5,d4,d5,exd5,Qxd5,h3,Nh6,Bxe5,fxe5,dxe5,Nxe5,Nxe5,Qxe5,Qd2,Ra6,Qe3,Re6,Bf3,Nf5,Rfe1,Qb5,Qd3,Qe5,Qe4,Qxc3,Qa4,Bd7,Qxd7,Re5,Rxe5', 'Qxa1+,Qd1,Qxe5', 'https://lichess.org/training/nzGnG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZGsf', 'Rapid', 'ShapeTheFuture', 1955, 'bloodchessusa', 1965, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,h3,Nc6,Nxc6,bxc6,Be3,Bb7,Bb3,Qc7,Re1,Rfd8,Qf3,c5,a3,Rac8,Rad1,a6,Bf4,Nh5,Bh2,c4,Ba2,f5,Nd5,Bxd5,exd5,Bxb2,c3,Bxa3,Bb1,Qd7,Re6,Ng7,Rde1,Nxe6,Rxe6,Rb8,Bc2,Rb2,Qe2,Re8,Bf4,Bc5,Bc1,Rb7,Qf3,a5,Qg3,Rf8,Bh6,Rf7', 'Rxg6+,hxg6,Qxg6+,Kh8,Qxf7', 'https://lichess.org/training/nZGsf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nzHbG', 'Classical', 'BrooklynBoy', 2182, 'RegisterMeAlready', 2108, 'Nf3,Nf6,g3,d5,Bg2,c5,c4,d4,O-O,Nc6,d3,e5,Nbd2,Be7,Re1,O-O,Nf1,Qc7,e3,h6,exd4,cxd4,a3,a5,Qb3,Nd7,N3d2,Nc5,Qc2,f5,Nb3,Kh8,Nxc5,Bxc5,Qa4,Bd7,Qd1,Rae8,Qh5,Be6,f4,Bf7,Qxf5,Bxc4,Qg6,Ne7,Qe4,Bd5,Qxe5,Qc6,Be4,Ng6,Qh5,Bxe4,dxe4,Rxe4', 'Rxe4,Qxe4,Qxc5', 'https://lichess.org/training/nzHbG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZhIz', 'Rapid', 'sequence32', 1615, 'DrDarshMahdy1992', 1701, 'e4,d5,exd5,Nf6,c4,c6,Nc3,e6,dxe6,Bxe6,b3,Bc5,Be2,Qd4,d3,Qxf2+,Kd2,Bb4,Bb2,O-O,a3,Ne4+,Kc2,Bxc3,Bxc3,Nxc3,Kxc3,Na6,b4,Rad8,Nf3,Qe3,Qd2,Qxd2+,Kxd2,b5,c5,Bc4,Kc3,Bd5,Rhe1,Rfe8,g3,f6,Nd4,Nc7,a4,a6,axb5,Nxb5+,Nxb5,axb5,Ra6,Ra8,Rxa8,Rxa8,Bd1,Ra3+,Kd2,Kf7,d4,Ra2+,Bc2,Bb3,Rc1,Ke6,Kc3,Bxc2,Rxc2,Rxc2+,Kxc2,Kd5,Kd3,h6,h3,g5', 'g4,f5,gxf5', 'https://lichess.org/training/NZhIz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nzHQI', 'Rapid', 'punisher4711', 1748, 'abd_fawadleh', 1785, 'd4,Nf6,Bg5,h6,Bxf6,exf6,a3,d5,c4,c6,Nc3,Be6,e3,dxc4,Nf3,c5,Qa4+,Nc6,Bxc4,cxd4,Rd1,Bc5,Nxd4,Bxc4,Qxc4,Bxd4,exd4,O-O,O-O,a6,d5,Ne5,Qb4,Qd7,d6,a5,Qd4,Rad8,Ne4,Kh8,Nc5,Qf5,Nxb7,Rd7,Nxa5,Qg5,f4,Nf3+,Rxf3,Qxa5,Rfd3,Rfd8,h3,Qb5,b4,Rxd6,Qxd6,Rxd6,Rxd6,Qa4,R6d3,Qc2,Kh2,Qf2,Rd4,f5,a4,g5,fxg5,hxg5,a5,f4,Rd8+,Kg7,R1d3,Qh4,a6,g4,a7,Qe1,a8=Q', 'g3+,Rxg3+,fxg3#', 'https://lichess.org/training/nzHQI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZj1a', 'Rapid', 'Fusiek', 1798, 'tee-time', 1822, 'd4,e6,c4,b6,Nc3,Bb7,Nf3,Nf6,Bg5,Be7,Qc2,Na6,e4,Nb4,Qb3,c5,d5,Nfxd5,exd5,Bxg5,Nxg5,Qxg5,Ne4,Qg6,Nd6+,Ke7,Nxb7,exd5,cxd5,d6,a3', 'Nc2+,Kd2,Nxa1', 'https://lichess.org/training/NZj1a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZK9i', 'Rapid', 'L_Massei', 1789, 'Juzwa', 1771, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,d5,Nb8,Bxd7+,Qxd7,c4,Be7,Nc3,Nf6,O-O,O-O,Bg5,h6,Bh4,Nh7,Bxe7,Qxe7,Nd2,Nd7,Qe2,Qf6,Qe3,Ng5,f4,Nh7,fxe5,Qxe5,Nf3,Qe7,Nd4,Ne5,b3,Rac8,h3,Ng5,Rf2,c6,Raf1,c5,Nde2,b6,Ng3,g6,Rf4,Nh7,Kh2,Qg5,Nd1,a6,Nf2,Qe7,Qe2,g5,Rf5,f6,Ng4,Nxg4+,Qxg4,b5,Nh5,Rf7,Nxf6+,Rxf6', 'Rxf6,Nxf6,Qxc8+', 'https://lichess.org/training/nZK9i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZKW3', 'Rapid', 'dymek92', 1626, 'magstal', 1616, 'e4,e5,Nf3,f5,exf5,Nf6,Nc3,d5,d4,e4,Ne5,Nc6,Bg5,Bxf5,Bxf6,Qxf6,Bb5,O-O-O,Bxc6,bxc6,O-O,c5,a4,cxd4,Qxd4,Re8,Nxd5,Qxe5,Qxa7,Qxd5,Rfd1,Qb7,Qd4,Qb6,Qd5,Be6,Qxe4,Bc5,Rd2,Bxf2+,Rxf2,Rhf8,Rf1,Rxf2,Rxf2,Rf8', 'Qa8+,Kd7,Qxf8', 'https://lichess.org/training/NZKW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZmOF', 'Bullet', 'voodoochild2277', 1571, 'Amyron', 1576, 'e4,e6,f4,d6,Nf3,Nf6,Nc3,e5,f5,Be7,d4,Nc6,d5,Nb8,Bg5,Nbd7,Qd2,Nc5,Bxf6,Bxf6,O-O-O,O-O,a3,a5,h4,g6,h5,gxf5,exf5,Bxf5,Bd3,Bg4,h6,Bxf3,gxf3,Bg5,Rhg1,f6,Kb1,Kh8,Qg2,Rg8,Qh3,Nxd3,cxd3,Qe7,Ne4,f5,Qxf5,Bf4,Nf6,Rxg1,Rxg1,Rf8,Rg8+,Rxg8,Nxg8,Kxg8,Qg4+,Kh8', 'Qc8+,Qf8,Qxf8#', 'https://lichess.org/training/NZmOF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZmV5', 'Blitz', 'valera1952', 1780, 'gavon', 1781, 'e4,e5,f4,d5,exd5,c6,dxc6,Nxc6,d3,exf4,Bxf4,Bd6,Bxd6,Qxd6,Nf3,Bg4,Be2,O-O-O,O-O,Nf6,Nc3,Qc5+,Kh1,Rhe8,h3,Re6,Qd2,Bh5,Qg5,Qe7,Rae1,h6,Qh4,g5,Qf2,g4,Nh4,gxh3,Bxh5,Nxh5,Rxe6,fxe6,gxh3,Ne5,Ne4,Rg8,Ng2,Qg7,Rg1,Ng3+,Nxg3,Qxg3,Qxg3,Rxg3,Kh2,Rg6,Nf4', 'Nf3+,Kh1,Rxg1#', 'https://lichess.org/training/nZmV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZnPJ', 'Rapid', 'Goatmaster', 1629, 'STWALKER', 1644, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,b3,e6,Bb5,Nf6,h3,a6,Bxc6+,bxc6,O-O,c5,Qd3,a5,c4,Ba6,Nbd2,Bd6,Re1,O-O,Ba3,Nd7,Qe3', 'cxd4,Nxd4,Bxa3', 'https://lichess.org/training/NZnPJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZNuT', 'Blitz', 'FM chesszerorfl', 2392, 'Dontknowhowtochess96', 2388, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,dxc4,e4,b5,e5,Nd5,Nxb5,Nb6,Be2,Nc6,O-O,Bb7,a3,Be7,Be3,O-O,Qc2,Na5,Rad1,Qd7,Nc3,Nd5,Bg5,Rab8,Ne4,f6,exf6,gxf6,Bh6,Rf7,Ng3,Kh8,Rfe1,Qc6,Bf1,c3,b4,Nc4,Qb3,Ba6,Re4,Bb5,Rde1,a5,Rxe6,Nd6,Bxb5,Qxb5,Rxe7,Nxe7,Qxc3,axb4,axb4,Qxb4,Qxc7,Nef5,Qc1,Nxh6,Qxh6,Re8,Rc1,Qb2,h3,Rg8,Rc6,Qb1+,Kh2,Nf5,Nxf5,Qxf5,Qe3,Qd5,Re6,Rfg7,g3,Rg6,Re4,f5,Re5,Qd7,h4,Qb7,Ng5,h6,Ne6,Qf7,Nf4,Rg4,Re7,Qf6,d5,Rxh4+', 'gxh4,Qxh4+,Nh3', 'https://lichess.org/training/NZNuT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NzOWs', 'Classical', 'lowlewel', 1782, 'hhornung', 2120, 'Nf3,g6,e4,Bg7,e5,d6,d4,Nc6,Bb5,a6,Bxc6+,bxc6,exd6,cxd6,O-O,Nf6,c4,O-O,Nc3,Rb8,a3,Re8,h3,Bf5,b4,Ne4,Nxe4,Bxe4,Ng5,Bf5,Ra2,h6,Nf3,e5,dxe5,dxe5,Qa4,Bd3,Rd1,e4,Ne1,Qh4,Nxd3,exd3,Qxc6,Re2,Rxe2,dxe2,Re1,Qd4,Be3', 'Qd1,Rxd1,exd1=Q+', 'https://lichess.org/training/NzOWs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZP8m', 'Rapid', 'Tihany', 1612, 'TASDEMEEERDE', 1604, 'e4,e6,d4,d6,f4,Qh4+,g3,Qd8,Bg2,b6,Ne2,Bb7,O-O,h6,c4,g6,Nbc3,Bg7,Be3,Ne7,e5,Bxg2,Kxg2,d5,b3,dxc4,bxc4,Nf5,Qd2,Nc6,Rad1,O-O,d5,exd5,cxd5,Nb4,a3,Nc2,Bf2,Nxa3,Ne4,Nc4,Qd3,b5,Nd4,Nb2,Qxb5,Nxd1,Rxd1,Rb8,Qc5,Rb2,Rd2,Rxd2,Nxd2,Qb8,Nxf5,gxf5,Nc4,Re8,Na5,Bf8,Qc4,Qb2,Nc6,a6,e6,fxe6,dxe6,Bg7', 'e7+,Kh7,Qf7', 'https://lichess.org/training/NZP8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZPDm', 'Rapid', 'THE-HAWK', 1789, 'J_Bo', 2065, 'd4,d5,c4,e6,a3,c6,c5,Nf6,b4,Be7,Bb2,O-O,Nf3,Nbd7,e3,Qc7,Bd3,Ne4,Nc3,f5,O-O,Ndf6,Ne2,Bd7,Ng3,h6,Ne5,Rad8,f4,Rfe8,Bxe4,Nxe4,Nxe4,dxe4,Qh5,Rf8,Ng6,Rf7,Nxe7+,Rxe7,Qe2,Be8,g3,g5,Rf2,g4,Qc4,Bf7,Qc3,Kh7', 'd5,e5,d6', 'https://lichess.org/training/NZPDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZpQN', 'Blitz', 'botdestroyer10202902', 1895, 'chandy_carlsen', 1882, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,a5,a3,Be7,e3,O-O,Bd3,d5,O-O,c6,Qe1,dxc4,Bxc4,b5,Bd3,Bb7,b4,axb4,Bxb4,Nbd7,Nbd2,Nd5,Bxe7,Qxe7,e4,Nf4,Bc2,c5,Qe3,Ng6,Nb3,c4,Nbd2,Rfc8,e5,Nb6,Rfb1,Nd5,Qe1,Bc6,a4,Nb4,Bxg6,hxg6,Qd1,c3,Qb3,Bxf3,Nxf3,c2,Rc1,bxa4,Qe3,Nd5,Qd2,a3,Rxc2,Rxc2,Qxc2,Nb4,Qb3,a2,h3,Rb8,Rxa2,Qc7,Rb2,Nc6,Qc3,Rxb2,Qxb2,Qa7,Kh2,Kh7,Qd2,Kg8,Qd3,Qb6,Kg3,Qc7,Ng5,Ne7,Qf3,Nf5+,Kh2,Nxd4', 'Qa8+,Qd8,Qxd8#', 'https://lichess.org/training/nZpQN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nzQIR', 'Rapid', 'vvoix', 1998, 'brianvega', 2071, 'e4,c5,Nf3,Nc6,Bb5,e6,O-O,Nge7,Re1,a6,Bf1,Ng6,c3,b5,d4,cxd4,cxd4,d5,exd5,Qxd5,Nc3,Qh5,d5,Nd8,Bg5,Be7,Bxe7,Nxe7,d6,Ng6,Bd3,O-O,Be4,Bb7,Rc1,Nc6,Ne2,Na5,Ng3,Qh6,Bxb7,Nxb7,Rc7,Rab8,Qd3,Qf4,Rd1,Rfd8,Rc6,Ne5,Nxe5,Qxe5,Rxa6', 'Nc5,Qa3,Nxa6', 'https://lichess.org/training/nzQIR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZQsh', 'Rapid', 'ALOUZE', 1681, 'lyonfab', 1662, 'e4,c5,c3,Nf6,e5,Nd5,Nf3,Nc6,Bc4,Nb6,Bb3,g6,d4,cxd4,cxd4,Bg7,O-O,O-O,Bf4,d6,Nc3,dxe5,dxe5,Bg4,Qe1,Bxf3,gxf3,e6,Rd1,Qh4,Bg3,Qg5,Kh1,Nxe5', 'f4,Qe7,fxe5', 'https://lichess.org/training/NZQsh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZr7R', 'Rapid', 'RGLaking', 2220, 'maxwellx12345678910', 1866, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,Bf4,Nbd7,e3,e6,h3,Bb4,Be2,Ne4,Qb3,Bxc3+,bxc3,O-O,O-O,b6,cxd5,cxd5,a4,Qc8,Rfc1,h6,c4,dxc4,Bxc4,Qb7,a5,Rfb8,a6,Qc8,Bxe6,Bxe6,Rxc8+,Rxc8,Qb5,Ndf6,Ne5,Rd8,Nc6,Bd7,Rc1,Rac8,Ne7+,Kh8,Rxc8,Rxc8,Qxd7', 'Rc1+,Kh2,Nxd7', 'https://lichess.org/training/NZr7R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZsAs', 'Classical', 'YuanSean', 1892, 'Winningchances', 1898, 'e4,c5,Nf3,e6,g3,Nc6,Bg2,Nf6,d3,Be7,O-O,d6,Nc3,Bd7,Nd2,e5,h3,Qc7,Nf3,O-O-O,Bg5,Kb8,Bxf6,Bxf6,Nd5,Qc8,g4,Rdg8,a3,Bd8,c3,Ne7,Nxe7,Bxe7,c4,h5,Nh2,hxg4,Nxg4,Rh4,f3,f5,exf5,Bxf5,b4,Bg5,Qe2,Bf4,b5,Rgh8,a4,Rxh3,Bxh3,Rxh3,Rf2,Qh8,Nh2,Bxh2+,Rxh2,Bxd3', 'Rxh3,Qxh3,Qxd3', 'https://lichess.org/training/nZsAs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZsfW', 'Blitz', 'RondinelleParaiba', 2385, 'FM vantamaj', 2560, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Bd7,h3,Nf6,Re1,g6,c3,b5,Bb3,Bg7,d3,O-O,Nbd2,Na5,Bc2,c5,Nf1,Re8,Be3,Rc8,Qd2,d5,Bh6,dxe4,dxe4,Bc6,Bxg7,Qxd2,N1xd2,Kxg7,Red1,Rcd8,Kf1,b4,Ke2,Bb5+,Ke3,Nxe4,Bxe4,f5,Ng5,h6,Bc2,hxg5,f3,e4,fxe4,fxe4,cxb4,cxb4,Rac1,Rxd2,Kxd2,Nc4+,Ke1,Ne3,Rd2,Nf5,Bd1,e3,Rd5,Ng3,Bf3,Rf8,Rc7+,Kh6,Rxb5,axb5,Rb7,Rd8,Rxb5,Rc8,Kd1,Rd8+,Ke1,Rd2,Rxb4,Rf2,Rg4', 'Rf1#', 'https://lichess.org/training/NZsfW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZsQE', 'Blitz', 'Doodloper', 2109, 'luanvrella', 2096, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Rg1,e5,Nb3,Be6,g4,Be7,g5,Nfd7,Be3,O-O,Qd2,Qc7,O-O-O,Nc6,h4,Nb6,Kb1,Rac8,h5,Nb4,g6,fxg6,hxg6,h6,Bxh6,gxh6,Qxh6,Bf6,Rxd6,Bxb3,axb3,Rcd8,Rxb6,Rd1+,Nxd1', 'Qxc2+,Ka1,Qxd1+,Qc1,Qxc1#', 'https://lichess.org/training/nZsQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nzTE7', 'Classical', 'Amir_ELSHAWADFY', 1736, 'sumitsrana', 1777, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,c6,Bc4,d5,exd5,cxd5,Bd3,Be6,Re1,Nf6,Bb5+,Nd7,Qh5,Be7,Rxe6,O-O,Re1,g6,Qxd5,a6,Bxd7,b5,c3,Bf6,cxd4,Ra7,Bc6,Qb6,Re4,Rd8,Re8+,Rxe8,Bxe8,Bxd4,Qf3,Re7,h3,Re1+,Kh2,Be5+,g3,f5,Qd5+,Kg7,Nc3', 'Qxf2+,Qg2,Bxg3#', 'https://lichess.org/training/nzTE7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZtMW', 'Rapid', 'mahnaz60', 1846, 'nineteenmiracle', 1920, 'e4,e5,Nf3,Nc6,Nc3,Bc5,h3,Nf6,Be2,O-O,O-O,Re8,a4,d5,exd5,Nxd5,Ne4,Be7,c4,Nf4,d3,Nxe2+,Qxe2,f5,Nc3,Nd4,Nxd4,exd4,Ne4,fxe4,dxe4,d3,Qd2,Be6,b3,Bf6,Ra2,Qe7,Qxd3,Rad8,Qg3,Bh4,Qf3,Rf8,Qc3,Bg5,Ba3,c5,Qa5,b6,Qc3,Bd2', 'Rxd2,Rxd2,Qxd2', 'https://lichess.org/training/nZtMW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nztne', 'Rapid', 'extremegamer', 1761, 'LBRodriguez', 1776, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Ne5,Bb3,Nf6,Nc3,Bb4,Qe2,O-O,Bf4,Bd6,O-O,c5,Ndb5,Bb8,Nd5,Nxd5,exd5,Re8,Be3,b6,c4,Ba6,a4,Qh4,h3,Bc8,Rad1,d6,Bd2,Kf8,Be3,Bg4,Qd2,Bxh3,Qe2,Bg4,f3,Qg3,fxg4,Nxg4,Bf4,Rxe2,Bxg3,Ne3,Rde1', 'Rxg2+,Kh1,Rxg3', 'https://lichess.org/training/Nztne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZUHr', 'Rapid', 'MackTheKnife', 1808, 'saadeldien', 1652, 'e4,e5,Nf3,d6,Bc4,h6,c3,Nf6,d3,Be7,O-O,O-O,h3,Nh7,Be3,Kh8,Nbd2,f5,exf5,Bxf5,Nh2,Bg5,Bxg5,Nxg5,Ndf3,Bxh3,gxh3,Nxh3+,Kg2,Nf4+,Kh1,Rf5,d4,e4,Qc2,d5,Rg1,Rh5,Ne5', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/NZUHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZuqb', 'Rapid', 'Valera42kem', 1825, 'Sorokin2', 1789, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,Nc3,Nf6,d3,a6,Ba4,h6,O-O,Be6,Bxc6+,bxc6,Nh2,d5,f4,d4,Ne2,Bd6,fxe5,Bxe5,c4,c5,Nf4,Bxf4,Bxf4,c6,Be5,Rb8,Bxf6,gxf6,b3,Ke7,Ng4,Bxg4,Qxg4,Rg8,Qf5,Qd6,Rae1,Rg5', 'e5,Rxf5,exd6+,Kxd6,Rxf5', 'https://lichess.org/training/NZuqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZux4', 'Rapid', 'Mustafa6878', 2521, 'Karbov5252', 2378, 'e4,c5,Nc3,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,b6,O-O-O,Bb7,Bxf6,exf6,Bb5+,Ke7,Rhe1,Rc8,Nd5+,Ke6,Qe3,g6,f4,f5,exf5+,Kxf5,g4+,Kxg4,Be2+,Kf5,Qh3+,Ke4', 'Bf3#', 'https://lichess.org/training/NZux4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NzVBx', 'Rapid', 'abdel---123', 1807, 'CyberDexter', 1779, 'd4,Nf6,Nc3,e6,e4,Bb4,e5,Nd5,Bd2,O-O,a3,Bxc3,bxc3,d6,exd6,cxd6,Bd3,Nc6,Nf3,Re8,Bg5,f6,Bh4,Nxc3,Bxh7+,Kxh7,Qd3+,Ne4,Qxe4+,f5,Qxc6', 'Qa5+,c3,bxc6', 'https://lichess.org/training/NzVBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nzVWi', 'Rapid', 'Bazza2103', 1705, 'NEP0MNIACHTCHI', 1660, 'c4,e5,Nc3,Nf6,e3,c6,Nge2,d5,cxd5,cxd5,d4,exd4,Nxd4,Bb4,g3,O-O,Bg2,b6,O-O,Bb7,Qb3,Bxc3,Qxc3,Re8,Rd1,Ne4,Bxe4,Rxe4,Nf5,f6,b3,Qd7,Nh6+,gxh6,Qxf6,Qg7,Qd8+,Qf8,Qc7,Qf7,Qd8+,Re8,Qh4,Qg7,Rb1,Na6,Bb2,Qd7,Qxh6,Re6,Qg5+,Rg6,Qe5,Rf8', 'Qh8+,Kf7,Qxh7+,Ke8,Qxg6+', 'https://lichess.org/training/nzVWi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZWZb', 'Classical', 'SerialKira', 1696, 'celebrate', 1653, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,dxe5,Nxe5,Bxd7+,Nxd7,O-O,Ngf6,Bg5,Be7,Nc3,O-O,Re1,Ne5,Nxe5,dxe5,Nd5', 'Nxd5,exd5,Bxg5', 'https://lichess.org/training/NZWZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZxQB', 'Blitz', 'AanFandri94', 1738, 'Holybishop_2020', 1750, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Bf5,Bf4,a6,Nf3,e6,Bc4,c6,O-O,Nf6,h3,h6,a4,Bb4,Be5,O-O,Nh4,Bh7,f4,Nd5,Nxd5,cxd5,Bd3,Bxd3,Qxd3,Qxh4,c3,Be7,Rf3,Bf6,Bd6,Be7,Be5,Nd7,Rg3,Nxe5,fxe5,Qe4,Qd2,Bg5,Qf2,Qf4,Rf3,Qd2,Qg3,Qxb2,Raf1,f6,h4,Bd2,exf6,g5,f7+,Kh7,hxg5,Bxg5,R3f2,Qa3,Qd3+,Kg7,Rf3,Qxa4,Rg3,Qb5,Qf3,Qd7,Qf6+,Kh7,Rxg5,hxg5,Kf2,Rxf7', 'Rh1+,Kg8,Rh8#', 'https://lichess.org/training/NZxQB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NZXtk', 'Rapid', 'dogwood', 1827, 'Robinsonahp', 1889, 'd4,g6,e4,Bg7,Nf3,Nc6,c3,d6,Bf4,Bg4,h3,Bd7,Bb5,a6,Ba4,Nf6,Nbd2,O-O,O-O,b5,Bc2,Na5,b3,Rc8,e5,Nh5,Bh2,c5,g4,cxd4,cxd4,Nf6,exf6,Bxf6,Ne4,Bg7,Rc1,Bc6,Qe2,Qb6,Rfd1,Bd5,Qe3,Nc6,Bg3,Rfe8,Bb1,a5,Bxd6,Bxe4,Bc5,Qd8,Bxe4,Nb8,Bb7,Rc7,Be4,Rc8,Bb1,e6,Ne5,Qh4,Qg3,Qg5,h4,Qf6,g5,Qd8,Qf3,f5,Qb7,Rc7,Qxb5,Qd5,Qe2,Rec8,Qf3,Bxe5,Qxd5,exd5,dxe5,Rxc5,Rxc5,Rxc5,Bd3,Kf7,Re1,Ke6,f4,Rc3,Re3,Rc1+,Kg2,Nc6,Re2,Nb4,Bb5,Rc2,Rxc2,Nxc2,Bd3', 'Ne1+,Kf2,Nxd3+', 'https://lichess.org/training/NZXtk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Nzxws', 'Rapid', 'shahmohammadzadeh', 2022, 'maelic', 2063, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Ne7,dxc5,Bxc5,O-O,Nc6,Bf4,O-O,Re1,a6,Na4,Ba7,b3,b5,Nb2,Rc8,c4,Qb6,Be3,d4,Bd2,Qc5,b4,Qb6,c5,Qb7,a3,Bb8,Bf4,Rfd8,Nd3,Nf8,Re4,Nxb4,Rxd4,Nxd3,Qxd3,Rxd4,Qxd4,Qc7,Rc1,Rd8,Qc3,Ba7,Be3,Nd7,h4,Bb8,Bg5,Rc8,Be7,Nxe5,Bd6,Nxf3+,Qxf3,Qc6', 'Qxc6,Rxc6,Bxb8', 'https://lichess.org/training/Nzxws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nzy9A', 'Blitz', 'Vincentos', 1677, 'nechdmit', 1667, 'f4,d5,Nf3,Nc6,e3,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Nf6,Nbd2,Bd6,O-O,O-O,Ne5,Re8,c4,dxc4,Ndxc4,Bxe5,Nxe5,Nxe5,fxe5,Nd5,e4,Nb4,Qf3,Re7,Bg5,Nc2,Bxe7,Qxe7,Rad1,Rd8,d5,exd5,exd5,Qxe5,Qxf7+,Kh8,Rf3,h6,Rg3,Nd4,Rg6,Rxd5,Rf1,Ne2+,Kh1', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/nzy9A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nZye4', 'Blitz', 'MidnasLament', 1767, 'lambo_mercy', 1761, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,Bb4,O-O,Bxc3,bxc3,Nf6,Bg5,h6,Bf4,O-O,Bd6,Re8,e5,Ne4,Bb3,Nxc3,Qd3,Qa5,Bc2,g6,Nh4,Nxe5,Bxe5,Qxe5,Nxg6,fxg6,Qxg6+,Kf8,Qxh6+,Ke7,f4,Qd4+,Kh1,Rh8,Qg5+,Qf6,Qc5+,Kd8,Rac1,Rxh2+,Kxh2', 'Qh4+,Kg1,Ne2#', 'https://lichess.org/training/nZye4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('nzywu', 'Rapid', 'Voidx', 1743, 'antonov1958', 1685, 'e4,e5,d4,exd4,Qxd4,d6,b3,Nf6,Bb2,Be7,Nf3,O-O,Bc4,Nc6,Qd2,Bg4,Nd4,Ne5,f3,Bd7,Na3,c5,Nf5,Bxf5,exf5,a6,f4,Nxc4,Nxc4,d5,Ne5,Ne4,Qe3,Bf6,O-O,Bh4,Nf3,Bf2+,Rxf2,Nxf2,Qxf2,d4,Rd1,Qf6,g4,g6,Ne5,Rad8,fxg6,fxg6,Re1,Qxf4,Qe2,Rde8,Qc4+,Kg7,Qxc5,Qf2+,Kh1,Qxe1+,Kg2,Qxe5,Bxd4,Qxd4,Qxd4+,Kg8,g5,Re2+,Kg3,Rfe8,Qd5+,Kg7,Qxb7+,R8e7,Qxa6,R2e3+,Kf2,R3e5,h4,Rf5+,Kg2,Rfe5,Qd3,Re2+,Kf1,Re1+,Kf2,Rh1,Qd4+,Kf8,Qh8+,Kf7,Qxh7+,Ke6,Qxg6+,Kd7,Qf5+,Ke8,Qb5+,Kf8,Kg2,Rxh4,Kg3,Rh5,Qf5+,Rf7,Qc5+,Kg8,Kg4,Rh2,g6,Rg2+,Kh3,Rxg6,Qc8+,Kg7,Qc3+,Kf8,Qh8+,Rg8,Qh6+,Rfg7,c4,Kf7,c5', 'Rg3+,Kh4,R8g4+,Kh5,Rh3+,Kxg4,Rxh6', 'https://lichess.org/training/nzywu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('NzzI0', 'Blitz', 'Andres_Felipe', 2091, 'devils', 2055, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,h3,Nc6,Be3,Nd7,Bb3,Nc5,Nxc6,bxc6,Bd4,Nxb3,Bxg7,Kxg7,axb3,c5,Nd5,Bb7,f4,e6,Nc3,d5,exd5,exd5,f5,d4,f6+,Kh8,Qd2,dxc3,Qh6,Rg8,Rad1,Qc7,Rf4,Qc6', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/NzzI0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o003R', 'Rapid', 'saoo', 1803, 'KyosukeCM', 1774, 'c4,e5,g3,c6,Bg2,d5,cxd5,cxd5,Nf3,e4,Nd4,Nf6,d3,Bb4+,Nc3,O-O,O-O,Bxc3,bxc3,Re8,Bb2,e3,fxe3,Rxe3,Bf3,Nc6,Nxc6,bxc6,Qa4,Qb6,Qa3,Rxf3+,Kh1,Re3,Rf2,Rxg3,Qe7,Qxf2', 'Qd8+,Ne8,Qxe8#', 'https://lichess.org/training/o003R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o00N1', 'Blitz', 'rezo2015', 1593, 'Banti21', 1578, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,Nd2,d6,Nf3,O-O,Bd3,c5,Qe3,Ng4,Qf4,Bxg5,Qg3,h5,h3,Nf6,Qxg5,g6,O-O-O,Be6,g4,b5,gxh5,Nxh5,Bxb5,Qb6,Rhg1,Kh7,Bd3,Rab8,b3,c4,Bxc4,Bxc4,bxc4,Qb2+,Kd2,Qb4+,c3,Qxc4,Qd5', 'Rb2+,Kc1,Qxc3#', 'https://lichess.org/training/o00N1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O040k', 'Rapid', 'UdEnnn', 1874, 'needreba', 1792, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Ne7,O-O,c6,d4,exd4,Re1+,Kd6,Bxd5,cxd5,Bf4+,Kc6,Na4,b5,c3,bxa4,cxd4,Qb6,Rac1+,Kd7,Qg4+,Kd8,Qh4,Be6', 'Bc7+,Qxc7,Rxc7,Kxc7,Rxe6', 'https://lichess.org/training/O040k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O05QA', 'Rapid', 'oblix', 1618, 'JoaquinPelle', 1692, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,a6,a4,e6,d4,cxd4,Nxd4,Be7,O-O,O-O,f4,d5,exd5,exd5,Bd3,Bc5,Be3,Nc6,Be2,Re8,Qd2,Qb6,Rad1,Ne4,Qd3,Nxc3,bxc3,g6,Bf2,Bxd4,Bxd4,Nxd4,cxd4,Bf5,Qd2,Rac8,Rc1,Qc6,Bf3,Be4,Bg4,Rc7,Rfe1,Qxa4,Be2,Rcc8,Bg4,f5,Bf3,Rxc2,Rxc2,Qxc2', 'Qxc2,Bxc2,Rxe8+', 'https://lichess.org/training/O05QA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O07T8', 'Rapid', 'ClaraZeroth', 1615, 'ALPEEER', 1636, 'e4,e6,Nf3,d5,d4,c5,Bf4,dxe4,Nc3,Nc6,Nxe4,cxd4,Bb5,Qa5+,Qd2,Qxb5,Nxd4,Nxd4,Qxd4,e5,Bxe5,Bf5,Nd6+,Bxd6,Bxd6,Rd8,Qe3+,Be6,O-O-O,Nf6,Bc7,Rxd1+,Rxd1,O-O,Bd6,Rd8,f4,Qb6,Bc5,Rxd1+,Kxd1,Qxb2,f5,Qb1+,Ke2,Bc4+,Kf2,Qxc2+,Kg3,Ne4+,Kh4,h6,Qd4,g5+,fxg6,Bxa2,Qd8+,Kg7,Bd4+,Kxg6', 'Qg8+,Kf5,Qg4#', 'https://lichess.org/training/O07T8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O08FL', 'Rapid', 'michael12345', 1883, 'terible', 1952, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Bc4,d6,Nc3,Bg7,Bd2,Nf6,Rb1,O-O,O-O,d5,exd5,cxd5,Bd3,Bb7,Qc1,Rc8,Bh6,e5,Bxg7,Kxg7,Qg5,a6,Qxe5,Re8,Qg5,d4,Ne2,h6,Qd2,Ne4,Bxe4,Bxe4,Qxd4+,Qxd4,Nxd4,Red8,Rbd1,Bxc2,Nxc2,Rxd1,Rxd1,Rxc2,Rb1,Kf6,g3,Ke5,a4,f5,b4,Rc4,b5,axb5,axb5,Rc7,b6,Rb7,f4+,Kd6,Kf2,Kc6,Ke3,Rxb6', 'Rxb6+,Kxb6,Kd4,Kc6,Ke5', 'https://lichess.org/training/O08FL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O0dJE', 'Rapid', 'Call_me_Bona', 1873, 'waseemjaved', 1806, 'c4,c5,e3,g6,Nc3,Bg7,Nf3,Nc6,a3,e5,Be2,Nf6,d3,d5,cxd5,Nxd5,O-O,O-O,e4,Nf4,Be3,Nd4,Nxd4,cxd4,Bxf4,exf4,Nd5,g5,Bg4,f5,Be2,fxe4,dxe4,Be6,Nb4,Rc8,Bg4,Bxg4,Qxg4,d3,Rad1,d2,Qe6+,Kh8,Nd5,Rc6,Qg4,Bxb2,Rxd2,Bxa3,h3,Rg6,Rfd1,Qa5,Qf3,Bd6,Qb3,b6,Qb2+,Kg8,f3,Re8', 'Nf6+,Rxf6,Qxf6', 'https://lichess.org/training/O0dJE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0EzL', 'Rapid', 'ReyAlNorte', 2169, 'Pascalfd', 2224, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Nc3,Ngxe5,Nxe5,Nxe5,Be2,O-O,O-O,Be7,b3,Bf6,Bb2,d6,Qc2,g6,Nd5,Bg7,f4,Ng4,Bxg4,Bxg4,Bxg7,Kxg7,Qc3+,f6,e4,Be6,Ne3,Re8,e5,dxe5,fxe5,f5,Rad1,Qg5,Nd5,Rac8,Nf4,Qe7,Rfe1,Rcd8,Kh1,Kf7,Qh3,Kg7,Qg3,Kf7,Nh3,h6,Nf4,g5,Nh5,Rxd1,Rxd1,Rd8,Rf1,Rd4,Nf6,Kg7,Qf2,Rf4', 'Nh5+,Kh7,Nxf4', 'https://lichess.org/training/o0EzL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O0hCg', 'Rapid', 'LiverpoolFC88', 1853, 'JardaHorny', 1961, 'e4,c5,Nf3,Nc6,d3,e6,g3,d6,Bg2,Be7,O-O,Nf6,Re1,O-O,Nbd2,b5,Nf1,e5,h4,h6,c3,Bg4,N1h2,Bh5,Bh3,Bg6,Bg2,Rc8,Be3,d5,exd5,Nxd5,Ng4,Nxe3,Rxe3,f6,Qb3+,c4,dxc4,bxc4,Qxc4+,Bf7,Qe2,Qb6,Nd2,Bc5,Rd3,Rfd8,Rxd8+,Rxd8,Nb3,Bxb3,axb3,Ne7,b4,Bd6,Qc4+,Kh8,Qa6,Bc7,Qxb6,Bxb6,Ne3,Rd2,Rd1', 'Bxe3,Rxd2,Bxd2', 'https://lichess.org/training/O0hCg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0HTi', 'Rapid', 'vlad_52-god', 1833, 'arminnadery', 1786, 'c4,e5,Nc3,c6,Nf3,Qf6,e4,Bc5,a3,d6,b4,Bd4,Bb2,Bg4,Be2,Ne7', 'Nxd4,exd4,Bxg4', 'https://lichess.org/training/o0HTi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O0IDc', 'Rapid', 'society', 1769, 'Talion90', 1778, 'd4,c6,Bf4,d5,e3,Bf5,c3,Nf6,Bd3,Bg6,Nf3,Nbd7,Qc2,Bxd3,Qxd3,Ne4,Nbd2,Ndf6,Nxe4', 'dxe4,Qe2,exf3', 'https://lichess.org/training/O0IDc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O0IHd', 'Classical', 'dmralizadeh', 1746, 'rafaelneiraesp', 1848, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,Be7,O-O,Bg4,Re1,Ng5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,Nc6,d3,O-O,Nc3,Bf6,Nd5,Be5,c3,Re8,d4,Bxh2+,Kxh2', 'Qh4+,Qh3,Qxh3+,Kxh3,Rxe1', 'https://lichess.org/training/O0IHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0N1P', 'Rapid', 'kalil-filho', 1642, 'Tucutac55', 1747, 'e4,b6,Nc3,Bb7,d4,e6,Bd3,Bb4,Bd2,Nf6,Qe2,Be7,Nf3,d6,h3,Nbd7,e5,Nd5,exd6,Bxd6,Ne4,Nf4', 'Nxd6+,cxd6,Bxf4', 'https://lichess.org/training/o0N1P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0On7', 'Rapid', 'cueball2017', 2308, 'mwafakalhaswa', 2162, 'Nf3,d5,g3,c5,Bg2,Nf6,O-O,g6,d4,cxd4,Nxd4,Bg7,c4,e5,Nf3,Nc6,cxd5,Nxd5,a3,O-O,e4,Nf6,Nc3,Qxd1,Rxd1,Bg4,Be3,Rfd8,h3,Bxf3,Bxf3,Nd4,Bxd4,exd4,Nb5,d3,Rac1,a6,Nc7,d2,Rc2,Rac8,e5,Nd5,Rcxd2,Rxc7,Bxd5,Kf8,e6,fxe6,Bxe6,Rxd2,Rxd2,Ke7,Bg4,h5,Bf3,b5,Kf1,Rc1+,Ke2,Rb1,Bb7,Bxb2', 'Be4,Ra1,Rxb2', 'https://lichess.org/training/o0On7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O0Q0v', 'Rapid', 'kartikadansana', 2030, 'jurgenbeckers', 2035, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Qc7,O-O,Nf6,d3,Be7,Re1,d6,Bf4,e5,Bg3,a6,a4,Be6,Bxe6,fxe6,Ng5,Qd7,f4,exf4,Bxf4,h6,Nf3,g5,Bg3,O-O-O,e5,Nh5,exd6,Bxd6,Bxd6,Qxd6,Ne4,Qe7,Nfd2,Nf4,Nc4,Nd4,c3,Nde2+,Rxe2,Nxe2+,Qxe2,h5,Re1,Rhe8,Qe3,Rd5,Nb6+,Kb8,Nxd5,exd5,Qg3+,Ka7,Qf3,dxe4,dxe4,g4,Qe3,Qe5,a5,h4,b4,Rc8,Rd1,Re8,Rd5', 'Qxd5,exd5,Rxe3', 'https://lichess.org/training/O0Q0v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0Rjx', 'Rapid', 'pierrebb', 1763, 'krzysiekstasilas', 1822, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,Bg4,O-O,e6,d3,Nc6,h3,Bh5,g4,Bg6,Bg5,Be7,Bxe7,Qxe7', 'Bxd5,exd5,Re1', 'https://lichess.org/training/o0Rjx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O0RzE', 'Rapid', 'Naveen_197', 1938, 'OffVad9', 1964, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,c5,c3,Nc6,Bd3,Be7,Nbd2,O-O,h4,Nh5,g4,Nxf4,exf4,cxd4,cxd4,Qb6,Nb3,Bb4+,Kf1,Bd7,h5,a5,Bc2,a4,Qd3,g6,hxg6,hxg6,Nh4,Ne7,Nc5', 'Bb5,Qxb5,Qxb5+', 'https://lichess.org/training/O0RzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O0S31', 'Rapid', 'smart56rider', 1915, 'mrithyunjay', 1998, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,Bg5,Nbd7,Nd5,b5,c3,Bxd5,exd5,Be7,Bxf6,Bxf6,O-O,O-O,Bf3,g6,g3,Bg7,Bg2,Qb6,Kh1,f5,f4,e4,Nd4,Bxd4,cxd4,Nf6,Rc1,Nxd5,Qb3,Qb7,a4,Kh8,axb5,axb5,Rc2,Rfc8,Rfc1,Rxc2,Qxc2,Nb4,Qb3,Nd3', 'Qxd3,exd3,Bxb7', 'https://lichess.org/training/O0S31');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0sMO', 'Rapid', 'faij', 1732, 'blearner', 1646, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,O-O,Nxe5,Bxd7+,Nxd7,Bg5,Ngf6,dxc5,Bxc5,Qe2,O-O,Ne5,Nxe5,Qxe5,Bd6,Qe2,Rc8,c3,Be7,Nd2,Qb6,Nf3,Rc7,Ne5,Ne4,Bxe7,Rxe7,Kh1,f6,Nf3,e5,Nh4,Qe6,f3,Ng5,Rae1,Nf7,Qd3,Nh6,g4,g5,Nf5,Nxf5,gxf5,Qf7,Rg1,Rd8,Qf1,e4,f4,h6,Qh3,Kh7,Re3,gxf4', 'Qxh6+,Kxh6,Rh3+,Qh5,Rg6+,Kh7,Rxh5#', 'https://lichess.org/training/o0sMO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0sxB', 'Rapid', 'booder', 1633, 'Luca_Brasii', 1663, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,c3,dxc3,Nxc3,c6,d4,b5,Bd3,d5,exd5,cxd5,Bxb5+,Bd7,Qa4,Nf6,Bg5,h6,Bxf6,gxf6,Bxd7+,Qxd7,Qxd7+,Kxd7,O-O-O,Kd6,f4,f5,h3,Bg7,g4,fxg4,hxg4,Raf8,Nb5+,Kc6,Nxa7+,Kd6,Nb5+,Kd7,Rhe1,f5,gxf5,Rxf5,Rg1,Bf8,Rg6,Rxf4,Re1,Be7,Nc3,Rxd4,Rg7,Re8,Nb5,Rc4+,Kd2,Kc6,Na7+,Kc5,Rexe7,Rxe7,Rxe7,Ra4,a3,h5,b4+,Kc4,Rc7+,Kb3,Rc3+,Ka2,Kc2,Rxa7,Rb3,Rxa3', 'Rxa3+,Kxa3,b5,h4,b6', 'https://lichess.org/training/o0sxB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O0tiF', 'Rapid', 'sarsel97', 1803, 'alsing', 1749, 'e4,e5,Nc3,Nf6,Bc4,Bc5,d3,Nc6,f4,d6,h3,Nd5,Bxd5', 'Qh4+,g3,Qxg3+,Kf1,Qf2#', 'https://lichess.org/training/O0tiF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0uca', 'Blitz', 'TheodoreBagwell1982', 1609, 'Istana', 1621, 'd4,d5,Bf4,c6,e3,Bf5,c4,Nf6,Nc3,e6,cxd5,cxd5,Qb3,Nbd7,Qxb7,Rb8,Bxb8,Nxb8,Bb5+,Nfd7,Nf3,Bd6,Ba4,Bd3,Nb5,Bb4+,Kd1,O-O,Nc3,a5,Bxd7,Nxd7,a3,Bd6,Kd2,Bf5,Rac1,Nf6,h3,Re8,Nh4,Ne4+,Ke2,Qxh4,Nxe4,Bxe4,g3,Qh5+,g4,Qh4,Rhg1,Rb8,Qd7,Rxb2+,Kd1,Qxf2', 'Rc8+,Bf8,Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/o0uca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0Ul6', 'Classical', 'bunny59', 1748, 'maarik841', 1756, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bb5,Nf5,Bxc6+,bxc6,O-O,Rb8,Qa4,Qb6,Qd1,cxd4,cxd4,c5,dxc5,Bxc5,Nc3,Ba6,Ne2,d4,a3,d3,Nc3,d2,Bxd2,Bxf1,Qxf1,Qxb2', 'Rb1,Qxb1,Nxb1', 'https://lichess.org/training/o0Ul6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0UM3', 'Rapid', 'chemanuel', 1627, 'Roterfuchs', 1613, 'd4,d5,Bf4,h5,c3,f6,Nd2,a6,h3,Nc6,e3,Bf5,Ngf3,Nh6,Be2,g5,Bh2,g4,hxg4,hxg4,Nh4,Qd7,Bf4,O-O-O,Nxf5,Qxf5,Bxg4,Nxg4,Rxh8,Nxf2,Kxf2,e5,dxe5,Nxe5,Rh5,Nd3+,Kg3,Qg6+,Kh2,Nxf4,exf4,Bd6,g3,Rg8,Nf1,Qe4,Qxd5,Qe2+,Kh3,Rg4,Rh8+,Kd7,Rh7+,Kd8,Rh8+,Kd7,Rh7+,Kd8,Ne3,Rg6,Qf7,Rxg3+,Kxg3,Qxe3+,Kg2,Qe2+,Kh1,Qf3+,Kg1,Qe3+,Kf1,Qd3+,Kg2,Qe2+,Kg1,Qg4+,Kf1,Qxf4+,Ke1,Qe4+,Kd1', 'Qd3+,Kc1,Bf4#', 'https://lichess.org/training/o0UM3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O0UNa', 'Blitz', 'FM Jazzyjef', 2514, 'RaphaelVarane', 2372, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bd3,Ngf6,Qe2,Be7,Nf3,O-O,O-O,b6,Bf4,Bb7,Rad1,Nxe4,Bxe4,Bxe4,Qxe4,Nf6,Qc6,Bd6,Be5,Qd7,Qc4,Nd5,a3,Rfd8,Qd3,Nf4,Qe4,Ng6,Bxd6,cxd6,g3,Rac8,c3,Qb5,Rd2,Rc7,h4,Ne7,Re1,Qh5,Kg2,h6,g4,Qd5,Qf4,Ng6,Qg3,Qb7,h5,Nf8,Kh3,Nh7,Kh4,Qd5,Rde2,Ng5,Nh2,Nh7,f4,Nf6,g5,hxg5+,fxg5,Nh7,Nf3,Rc4,Re4,e5,g6,fxg6,Rg4,exd4,Rxg6,d3+,Kh3,Qxh5+,Kg2,Rc7,Rh1,Qf5,Rgh6,Nf6', 'Rh8+,Kf7,Rxd8', 'https://lichess.org/training/O0UNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0uyo', 'Classical', 'superfischel', 1723, 'Giorgi2312', 1748, 'd4,d5,Bf4,e6,Nf3,c5,e3,cxd4,exd4,Nc6,Bb5,Nf6,O-O,Bd6,Be5,O-O,Re1,Bxe5,Nxe5,Nxe5,Rxe5,Ne4,Nd2,f5,Nxe4,fxe4,Qh5,Qf6,Rf1,a6,Be2,Bd7,f3,Bb5,fxe4', 'Qxf1+,Bxf1,Rxf1#', 'https://lichess.org/training/o0uyo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0VYk', 'Rapid', 'zuckertort2', 2183, 'Alex71bg', 2059, 'd4,e5,dxe5,Nc6,Nf3,Bc5,e4,Nge7,Bd3,Ng6,O-O,Ngxe5,Nxe5,Nxe5,Nc3,O-O,Bf4,Ng6,Bg3,d6,Kh1,Re8,f4,c6,f5,Ne5,Qh5,f6,Bxe5,Rxe5,Rf3,Bd7,Bc4+,Kh8', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/o0VYk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0YxG', 'Rapid', 'napiher', 1697, 'TracWar', 1737, 'c4,Nf6,Nc3,c5,g3,g6,Bg2,Bg7,Nf3,O-O,O-O,Nc6,a3,b6,Rb1,Bb7,b4,Rb8,d3,d5,Bd2,dxc4,dxc4,Nd4,b5,e5,Nxe5,Bxg2,Kxg2,Re8,Nc6,Nxc6,bxc6,Qc7,Bf4,Qxc6+,f3,Rbd8,Qc2,Ng4,Nd5,Ne5,Rbd1,Rd7,e4,h5,Rfe1,h4,Rd2,a6,Red1,b5,Bxe5,Bxe5,Nf6+,Qxf6,Rxd7,h3+,Kf2,Bd4+,Ke2,Qe6,Rd5,g5,cxb5,axb5,R5xd4,cxd4,Rxd4,f5,Qc5,fxe4,Rxe4,Qa2+,Kd3,Rd8+,Rd4,Qb3+,Qc3,Qd1+,Ke3,Re8+,Re4,Qg1+,Kd3,Rd8+,Kc2', 'Qd1+,Kb2,Rd2+,Qxd2,Qxd2+', 'https://lichess.org/training/o0YxG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O0Zdy', 'Classical', 'LKSLODZ1908', 1756, 'basemharash', 1734, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,h6,d4,Bb6,O-O,d6,Be3,Qf6,d5,Nce7,Bxb6,axb6,Na3,Bg4,Nb5,Bxf3,Qxf3,Qxf3,gxf3,O-O-O,a4,Nf6,a5,c6,axb6,cxb5', 'Ra8+,Kd7,Bxb5+', 'https://lichess.org/training/O0Zdy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O0zGT', 'Rapid', 'DrajverDrum', 2245, 'Marquiz95', 2095, 'e4,c5,Nf3,Nc6,Nc3,Nf6,d4,cxd4,Nxd4,e6,Ndb5,d6,Bf4,e5,Bg5,a6,Bxf6,gxf6,Na3,Be6,Bc4,b5,Bxe6,fxe6,Qh5+,Ke7,Ne2,Qe8,Qh3,Qg6,O-O,Qxe4,Rae1,Qg6,f4,Rg8,Ng3,Nd4,fxe5,fxe5,Ne4,Nf5,c4,bxc4,Nxc4,Qg4,Qxg4,Rxg4,Ncd2,Bh6,h3,Rg7,g4,Bxd2,Nxd2,h5,Re4,hxg4,Rxg4,Rxg4+,hxg4,Rg8,Rc1,Rxg4+,Kf2,Kd7,Rc3,e4,Nc4,d5', 'Ne5+,Kd8,Nxg4', 'https://lichess.org/training/O0zGT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o0ZUC', 'Rapid', 'Eduarss23', 1654, 'ptamber', 1660, 'd4,Nf6,Bf4,d6,e3,e6,h3,Be7,Nf3,O-O,Be2,a6,O-O,b5,Nbd2,Bb7,c4,Nbd7,cxb5,axb5,Bxb5,c6,Be2,Qb6,Qc2,Nd5,Qb3,Nxf4,Qxb6', 'Nxe2+,Kh2,Nxb6', 'https://lichess.org/training/o0ZUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O10MF', 'Rapid', 'gordonthegorilla', 1793, 'Chess_vsev', 1713, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,Nf3,Bg4,Be2,Bxf3,Bxf3,c6,exd6,exd6,O-O,Be7,b3,O-O,Nc3,N6d7,Bf4,Bg5,Qd2,Bxf4,Qxf4,Nf6,Rfe1,d5,c5,Nbd7,Re3,Re8,Rae1,Rxe3,Rxe3,Qf8,Ne2,Re8,Ng3,Rxe3,Qxe3,g6,h4,h5,Ne2,Kg7,Nf4,Qd8,Be2,Ne4,g3,Ndf6,Kg2,Ng8,f3,Nef6,g4,hxg4,fxg4,Ne4,g5,Ne7,h5', 'Nf5,Ne6+,fxe6', 'https://lichess.org/training/O10MF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o14RO', 'Blitz', 'Kilic55', 1631, 'Humanladder', 1619, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Be2,Bg4,d3,c6,h3,Bxf3,Bxf3,e6,Bd2,Qc7,O-O,Nbd7,Ne4,h6,Nxf6+,Nxf6,g3,Bd6,Bc3,Bxg3,fxg3,Qxg3+,Bg2,Nd5,Rf3,Qd6,Bxg7,Rg8,Bc3,Nf4,Rxf4,Qxf4,Qh5,O-O-O,Kh1,Rg6,Qa5,Qf2,Rg1,Rdg8,Be5,Qb6,Qd2,f6,Bc3,Rg3,Qe2', 'Rxh3+,Bxh3,Qxg1#', 'https://lichess.org/training/o14RO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O18nS', 'Rapid', 'fizwiq7', 1652, 'siulsimon', 1627, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nc3,a6,Ba4,e5,Nxc6,Bxc6,Bb3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd5,Bxd5,Qxd5,O-O,O-O-O,Bg5+,Kb1,b5,Qxd6,Qxd6,Rxd6,a5,h4,Be7,Rd3,Bc5,f3,a4,Bd5,Rad8,g4,g6,g5,Kg7,h5,f6,gxf6+,Kxf6,hxg6,Kxg6,Bc6,Rxd3,cxd3,Be3,Bxb5,Rxf3,Bxa4,Bd4,Bb5,Rf2,b3,h6,Be8+,Kg7,a4,Rb2+,Kc1,Rxb3,Rh2,Rxd3,Rd2', 'Be3,Kc2,Rxd2+', 'https://lichess.org/training/O18nS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o190n', 'Classical', 'fettahyildiz', 1706, 'Ultra-Chesser_9001', 1726, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,c5,e3,Nc6,Nf3,Bd6,dxc5,Bxf4,exf4,Qa5,Be2,dxc4,Bxc4,Ne4,Qd3,Nxc5,Qd2,b5,Bxb5,Bd7,O-O,O-O,a3,Qc7,Qe3,Ne7,Bxd7,Nf5,Qe5,Qxd7,Qxc5,Rac8,Rfd1', 'Qxd1+,Rxd1,Rxc5', 'https://lichess.org/training/o190n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O1D2m', 'Rapid', 'theme25', 1791, 'ARANTO', 1761, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Nf6,Bg5,Be7,Nc3,O-O,Bc4,d5,exd5,Nxd5,Nxd5,exd5,Bxe7,Qxe7+,Be2,Qb4+,Kf1,Qxb2,Bf3,Be6,c4,Nc6,Nxe6,fxe6,cxd5,Qb5+,Kg1,exd5,Bxd5+,Kh8,Bb3,Rad8,Qg4,Qc5,Rf1,Ne5,Qe2,Rde8,Qc2', 'Nf3+,gxf3,Qg5#', 'https://lichess.org/training/O1D2m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1DYh', 'Rapid', 'karlos302018', 1602, 'martionilio', 1783, 'e4,b6,d4,Bb7,Bd3,g6,c4,Bg7,Ne2,d6,Be3,Nf6,Nbc3,O-O,f4,Nbd7,f5,c5,O-O,cxd4,Nxd4,Nc5,fxg6,hxg6,Bg5,Nfxe4,Nxe4,Bxd4+,Kh1,Nxd3,Qxd3,Bg7,Rae1,Qc7,b3,Bxe4,Qxe4,e6,Bf6,Bxf6,Rxf6,Qe7,Ref1,Rad8,Qh4,Kg7', 'Rxg6+,fxg6,Qxe7+', 'https://lichess.org/training/o1DYh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O1E2U', 'Rapid', 'Guru2011', 2070, 'AlexPaley', 1947, 'e4,e5,Nc3,Nc6,Bc4,Bc5,d3,d6,Nge2,Nf6,O-O,Ng4,Na4,Qh4,h3,Nxf2,Rxf2,Bxf2+,Kh2,Nd4,Nxd4,Bxh3,gxh3', 'Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/O1E2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1eqg', 'Blitz', 'Maxim9871', 1567, 'Nothingne', 1566, 'd4,d5,c4,Nc6,Nc3,dxc4,e3,e6,Bxc4,Nf6,d5,exd5,Nxd5,Nxd5,Bxd5,Bb4+,Kf1,b6,Bxc6+,Ke7,Qxd8+,Rxd8,Bxa8', 'Ba6+,Ne2,Rd1#', 'https://lichess.org/training/o1eqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1FEL', 'Rapid', 'lizyon33', 1677, 'FoxTiger', 1808, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,h6,a3,Bd6,Bxd6,Qxd6,e3,b6,Rc1,O-O,cxd5,exd5', 'Nb5,Qd8,Nxc7', 'https://lichess.org/training/o1FEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1Ff9', 'Rapid', 'Zoecir', 1620, 'Mouclovaine', 1652, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,O-O,Nf6,d3,a6,Bc4,h6,a3,Be7,b4,O-O,Be3,Be6,Bxe6,fxe6,Nbd2,d5,Nh4,Nxe4,dxe4,Bxh4,Bc5,Rf7,exd5,exd5,Nf3,Be7,Bxe7,Qxe7,Qxd5,Rd8,Qe4,Qf6,Rae1,Re8,c3,b5,Nh2,Qe6,f3,Rf4,Qd3,Rd8,Qe3,Qc4,Ng4,Rd3,Nxe5', 'Rxe3,Nxc4,Rxe1', 'https://lichess.org/training/o1Ff9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O1GnG', 'Rapid', 'stefanbeck', 1722, 'jesuschrist12345', 1725, 'd4,e6,c4,Nf6,Nc3,Nc6,Nf3,Bb4,Qc2,O-O,Bg5,h6,Bh4,d5,e3,dxc4,Bxc4,Rb8,O-O,Re8,Rad1,Na5,Bd3,b6,Ne4,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Qxc7,Rb7,Qe5,Qe7,Rc1,Qb4,b3,Qa3,Rc2,Bd7,Rfc1,Rbb8,Bb5,Bxb5,Qxb5,Red8,Ne5,Nb7,Nc6,Rbc8,Nxd8', 'Qxc1+,Rxc1,Rxc1+,Qf1,Rxf1+,Kxf1,Nxd8', 'https://lichess.org/training/O1GnG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1GPW', 'Blitz', 'minorbison', 2004, 'WVH', 2007, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,c4,Nxd4,Qxd4,Nf6,Nc3,Be7,Bd3,O-O,O-O,c5,Qe3,Ng4,Qg3,Ne5,Nd5,Nxd3,Qxd3,Bf6,Qc2,g6,Bf4,Be5,Bxe5,dxe5,Rad1,Qg5,f4,exf4,Rxf4,Be6,Rdf1,Bxd5,cxd5,b6,Qe2,Rad8,Qa6,Qe7,a4,f5,Qc4,Qd6,exf5,Rxf5,Rxf5,gxf5,Rxf5,Re8,Qg4+,Kh8,Rf7,Qe5,h4,Rg8,Qf5,Qe1+,Kh2', 'Qg3+,Kg1,Qxg2#', 'https://lichess.org/training/o1GPW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1Gtg', 'Rapid', 'Iodine29', 1827, 'joruscz', 1817, 'Nf3,Nc6,c4,e5,d3,Nf6,g3,d5,cxd5,Nxd5,a3,Bc5,Bg2,Bg4,O-O,h5,b4,Bxf3,Bxf3,Bd4,Ra2,h4,e3,hxg3,fxg3,Bxe3+,Bxe3,Nxe3,Qe2,Nxf1,Qxf1,Qd6,Rc2,O-O-O,Be4,Nd4,Rc3,Qh6,Qf2,Rd6,Nd2,Rf6,Nf3,Nxf3+,Bxf3,g5,Qg2,c6,b5,Qh3', 'Qxh3+,Rxh3,Bg4+', 'https://lichess.org/training/o1Gtg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1Hqz', 'Rapid', 'rugan', 2075, 'nikolaichuk', 2073, 'e4,e6,g3,d5,Bg2,g6,d3,Bg7,Nc3,Ne7,Nge2,O-O,f4,c5,e5,f6,exf6,Bxf6,O-O,Nbc6,Kh1,Bg7,a4,a6,Ng1,Nd4,Nf3,Nec6,Re1,Qd6,Ng5,Bd7,Ne2,Nxe2,Rxe2,Nd4,Re1,Rae8,c3,Nc6,Be3,h6,Nf3,d4,Bd2,Bc8,c4,Bf6,Ne5,Kh7,Ng4,Bg7,Be4,e5,fxe5,Nxe5,Nxe5,Bxe5,Rf1,Bh3,Rxf8,Rxf8', 'Qh5,Bg7,Qxh3', 'https://lichess.org/training/o1Hqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1hUZ', 'Blitz', 'Danuq', 2031, 'Itchymoves', 2092, 'e4,e5,f4,exf4,Nf3,Ne7,Bc4,Ng6,O-O,c6,d4,d5,exd5,cxd5,Re1+,Be7,Bb3,O-O,Nc3,Be6,Ne5,Nxe5,Rxe5,g5,Nxd5,Bd6,Re1,Bxd5,Bxd5,Nc6,c3,Qf6,Qg4,Rae8,Bd2,Ne7,Bxb7,Nf5,Be4,Nh4,Qh5,Rxe4,Rxe4,Qf5,Rae1,f6,g3,fxg3,Rxh4', 'Qf2+,Kh1,g2#', 'https://lichess.org/training/o1hUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1JxZ', 'Rapid', 'perakgk', 2079, 'ClasicoFeliz', 2034, 'e4,Nf6,e5,Nd5,Nf3,d6,d4,Bg4,Bc4,Nb6', 'Bxf7+,Kxf7,Ng5+,Kg8,Qxg4', 'https://lichess.org/training/o1JxZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O1LDW', 'Blitz', 'sfbf', 1729, 'Latenight74', 1890, 'd4,Nf6,c4,g6,Nf3,d6,Nc3,Bg7,e4,O-O,Be2,Re8,O-O,c6,Rb1,a5,a3,Kh8,b4,axb4,axb4,Bd7,Qc2,Na6,Rd1,Nc7,b5,Ne6,Ng5,Nxg5,Bxg5,cxb5,Nxb5,h6,Be3,Bc6,f3,Nd7,Qb3,Bxb5,cxb5,Qa5,Qxf7,Nf8,Ra1,Qd8,Bc4,e6,Kf2,Rxa1,Rxa1,Re7,Qf4,g5,Qg4,Qc8,Rc1,Qd7,d5,Qd8,dxe6,Qe8,Rd1,Nxe6,Rxd6,Nc5,Bxc5,Qf8,Re6,Bd4+,Kg3,Bxc5,Rg6,Rh7,Qe6', 'Qf4+,Kh3,Qh4#', 'https://lichess.org/training/O1LDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O1mok', 'Rapid', 'goga88', 1949, 'SelahW', 1906, 'e4,c6,c4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,d4,e6,Nf3,Nf6,Be2,Bd6,O-O,Qc7,c5,Bxg3,fxg3,Nbd7,Bf4,Qa5,Bd3,Bxd3,Qxd3,Rd8,b4,Qxb4,Rab1,Qa4,Rxb7', 'Nxc5,Qb1,Nxb7', 'https://lichess.org/training/O1mok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1NGT', 'Rapid', 'van_gorg', 1650, 'Subcontrary', 1665, 'c4,c5,Nc3,Nc6,b3,g6,Bb2,Bg7,e3,Nf6,Qc2,O-O,a3,d5,Nf3,Bf5,Bd3,Ne4,Nxe4,dxe4,Bxg7,exd3,Qb2,f6,Bxf8,Kxf8,O-O-O,a6,h3,b5,g4,Be4,Ng5,Bxh1', 'Ne6+,Ke8,Nxd8', 'https://lichess.org/training/o1NGT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1RBo', 'Rapid', 'AurelKolnai', 1800, 'evona', 1938, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,Nc6,Nf3,Nf6,Nbd2,h6,c3,Bxg3,hxg3,e5,dxe5,Nd7,Nd4,Ndxe5,Bb5,Bd7,Qb3,a6,Be2,O-O,Qxd5,Nxd4,exd4,Ng6,O-O,Qc8,Bd3,Bc6,Qc4', 'Bb5,Qb3,Bxd3', 'https://lichess.org/training/o1RBo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O1rf8', 'Rapid', 'Makibinyane', 1671, 'aybuke61', 1974, 'b3,Nf6,Bb2,e6,e3,Be7,Nf3,O-O,h4,d5,Bd3,Nbd7,c4,dxc4,bxc4,Nc5,Bxf6,Bxf6,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Nd3+,Ke2,Bxg5', 'hxg5,Nf4+,exf4', 'https://lichess.org/training/O1rf8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1rQm', 'Blitz', 'tapkus', 2447, 'FM suddenly_sad', 2417, 'e4,c5,Nf3,Nc6,Bb5,g6,Nc3,Bg7,O-O,Nd4,d3,Nxb5,Nxb5,a6,Nc3,d6,h3,Nf6,e5,dxe5,Nxe5,O-O,Bg5,h6,Bh4,Qd6,Nc4,Qc6,Re1,b5,Ne5,Qb7,Qf3,Qxf3,Nxf3,Be6,Rad1,Ra7,b3,g5,Bg3,Nd7,Ne4,c4,d4,cxb3,cxb3,Bd5,Nc3,Bxf3,gxf3,Nb6,Be5,Rd8,Bxg7,Kxg7,d5,Rad7,b4,Kf6,Ne4+,Kg6,Nc5,Rxd5,Rxd5,Nxd5,Rd1,e6,Nxa6,Ra8,Nc5,Nxb4,Rd7,Rxa2,Rb7,Nc6,Rxb5,Nd4,Rb7,Nxf3+,Kg2,Nh4+,Kg1,Nf5,Nd3,f6,Rb6,Nd4,Rd6,Ne2+,Kf1,Nc3,Rxe6,Kf5,Rd6,Ne4,Kg2,Rd2,Rd5+,Ke6,Rd8,Nxf2', 'Nc5+,Ke5,Rxd2', 'https://lichess.org/training/o1rQm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1sOZ', 'Blitz', 'shahspeshka', 2085, 'MightyRoy', 2141, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,d4,Bd6,c3,O-O,Be2,Re8,Be3,Nd7,O-O,Nf8,a4,a5,Qd2,Qc7,h3,Ng6,Rfd1,f5,d5,c5,Qc2,f4,Bc1,b6,Bb5,Re7,Qd2,Bf5,Re1,h6,b3,Be4,Be2,Rd8,Bb2,Ne5,Nxe5,Bxe5,c4,f6,Bg4,f5,Bh5,Qd6,f3,g6,fxe4,gxh5,exf5,Qf6,Bxe5,Rxe5,Qxf4,Rxf5,Qg3+,Rg5,Qe3,Kh8,Rf1,Qg7,Ra2,Rg8,Qf3,Rg3,Qf6,Rxh3,Qxb6,Qd4+,Raf2', 'Rxg2+,Kxg2,Qg4#', 'https://lichess.org/training/o1sOZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1st7', 'Rapid', 'NovoselovN', 1646, 'AlanIsKing', 2002, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,a6,a4,Qc7,O-O,Nc6,Be2,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Bf3,Nf6,Rb1,O-O,b3,Nd7,Bb2,e5,Bc1,f5,Ba3,Rf6,exf5,gxf5,Be2,d5,Qe1,Nf8,Na2,Ne6,Nb4,a5,Nd3,Rg6,g3,Nd4,c3,Nxe2+,Qxe2,e4,Nf4,Qxf4,Kh1,Qg4,f3,exf3', 'Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/o1st7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1UXy', 'Rapid', 'gummychaos', 1741, 'Andylove7777', 1742, 'e4,e5,Bc4,Nf6,d3,Bc5,Bg5,h6,Bh4,c6,a4,d5,exd5,cxd5,Bb5+,Nc6,Nf3,Bg4,O-O,O-O,Bxf6,Qxf6,Nc3,Nd4,Nxd5,Qg5,Kh1,Nxf3,gxf3,Bh3,Rg1,Qh4,Ne3,Qxf2,Ng4,Bxg4,Rxg4,Bd6,Qg1,Qxf3+,Rg2,Rac8,Rf1,Qd5,c4,Qxd3,Rxg7+,Kh8,Rgxf7,Qe4+,Qg2,Qxg2+,Kxg2,Rg8+,Kh3,e4,Bd7,Rxc4,R1f6,Bf8,Bf5,Bg7', 'Rxh6+,Bxh6,Rh7#', 'https://lichess.org/training/o1UXy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O1VMO', 'Blitz', 'Bzzaann', 1902, 'fallen_champs', 1786, 'g4,g6,Bg2,d6,c4,c6,h3,h5,gxh5,Rxh5,Nc3,Bg7,Nf3,Nf6,d4,Nbd7,Be3,Nb6,b3,d5,c5,Nbd7,Qc2,e5,O-O-O,e4,Ng5,Nh7,Nxh7,Rxh7,f3,exf3,exf3,Nf6,Bg5,Kf8,h4,Bf5,Qf2,Qc7,Rde1,Be6,Bh3,Re8,Bxe6,Rxe6,Rxe6,fxe6,Re1,Kf7,Qe2,Qd7,Qe5,Nh5,Qb8,a6,Na4,Rh8,Qh2,Bxd4,Nb6,Qe8,Qc7+,Kg8,Nd7,Rh7,Rxe6,Qxd7,Rxg6+,Kh8', 'Qb8+,Qe8,Qxe8#', 'https://lichess.org/training/O1VMO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1xmv', 'Rapid', 'MontagnaG', 1686, 'Sportknights', 1683, 'e4,e5,Nf3,d6,d4,Nf6,dxe5,Nxe4,exd6,Bxd6,Bc4,Bg4,O-O,O-O,Re1,Re8,Qd3,Nf6,Rxe8+,Qxe8,Ng5,Qe1+,Qf1,Qxf1+,Kxf1,Nbd7,Nxf7,Kf8,Nxd6,cxd6,Nc3,Ne5,Bd5,Nxd5,Nxd5,Rc8,c3,Rc5,Ne3,Bd7,Bd2,Nd3,b4,Bb5,Kg1,Re5,c4,Bd7,Bc3,Rg5,Rd1,Nf4,Rxd6,Bc6,Bf6,Rg6,Be5,Ne2+,Kf1,Nc1,Rxg6,hxg6,a3,Nb3,Nd5', 'Nd2+,Kg1,Nxc4,Bc3,Bxd5', 'https://lichess.org/training/o1xmv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1xNp', 'Rapid', 'Nessuno199', 1699, 'SebaChile91', 1850, 'e4,e5,f4,exf4,Nf3,Be7,d4,Bh4+,Ke2,b6,Bxf4,Nc6,g3,Be7,Kf2,d6,c3,Bb7,Bb5,a6,Ba4,b5,d5,bxa4,dxc6,Bxc6,Re1,Qd7,Nbd2,Nf6,Kg1,Qh3,Ng5,Qd7,e5,dxe5,Rxe5,O-O,Nc4,Ng4', 'Qxd7,Bxd7,Rxe7', 'https://lichess.org/training/o1xNp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O1XSe', 'Rapid', 'Abrak98', 1793, 'Whisy', 1742, 'c4,e5,Nc3,c6,Nf3,d6,d4,exd4,Nxd4,Nf6,Bg5,Be7,e3,h6,Bh4,g5,Bg3,Bd7,b4,Na6,b5,Nc5,bxc6,Bxc6,Nxc6,bxc6,Be2,Qa5,Qd2,Nce4', 'Nxe4,Qxd2+,Nxd2', 'https://lichess.org/training/O1XSe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1yJc', 'Blitz', 'snemelc', 1827, 'gracjaktal', 1822, 'd4,Nf6,Bf4,e6,e3,d5,Nc3,Bd6,Bd3,Bxf4,exf4,a6,Nf3,b5,a3,Nbd7,O-O,c5,dxc5,Nxc5,Ne5,Nfd7,b4,Nxe5,fxe5,Nd7,f4,Bb7,Ne2,Qb6+,Kh1,Rc8,c3,O-O,Rc1,f6,exf6,Nxf6,Nd4,Rfe8,Rf3,Kh8,Rh3,Rxc3,Rxc3,Qxd4,Qc2,Ne4,Bxe4,dxe4,Rc7,e3,Rxb7', 'Qa1+,Qb1,Qxb1#', 'https://lichess.org/training/o1yJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O1z8F', 'Rapid', 'jeoWhite', 1859, 'aluis', 1928, 'e4,e5,Nf3,Nc6,Bb5,g6,d4,exd4,Nxd4,Bg7,Be3,Nge7,O-O,O-O,Nc3,a6,Ba4,d6,Nce2,Nxd4,Bxd4,Nc6,Bxc6,bxc6,Bxg7,Kxg7,c4,Be6,b3,c5,Qc2,f6,Nf4,Bf7,Qc3,Qe7,Rfe1,Qe5,Qxe5,fxe5,Nd5,Ra7,Rad1,a5,a4,Rb8,Rd3,Rab7,Ree3,Be6,g3,Bxd5,exd5,Rf8,Rf3', 'e4,Rfe3,exd3', 'https://lichess.org/training/O1z8F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o1ZcM', 'Blitz', 'Mojtababakhshi', 1857, 'killermorphy', 1855, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,c6,d3,Nf6,Ne2,Bd6,O-O,h6,Nbc3,O-O,f4,Bg4,h3,Bh5,Qe1,Re8,Qf2,Nbd7,Ng3,Bg6,Bd2,Qb6,Be3,Qc7,Bxa7,b6,Bxb6,Nxb6,Kh1,Nbd7,Nce2,Bc5,d4,Bb6,c3,Re7,f5,Bh7,Nf4,Rae8,Nfh5,Nxh5,Nxh5,Re2,Qf3,Qd6,Qg4,g6,fxg6,Bxg6,Nf4,R2e4,Bc2,Re3,Nxg6,fxg6,Bxg6,R8e7', 'Bf7+,Kh8,Qg8#', 'https://lichess.org/training/o1ZcM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O1zUi', 'Blitz', 'rezakhalili99', 1674, 'Tal36', 1755, 'Nf3,c5,e4,Nc6,Bb5,d6,a3,a6,Bc4,e6,d3,Be7,Nc3,Nf6,Bg5,O-O,O-O,Re8,h3,Nxe4,Bxe7,Nxc3,Bxd8,Nxd1,Raxd1,Rxd8,c3,b5,Bb3,Bb7,d4,c4,Bc2,Ne7,Ng5,h6,Ne4,f5,Ng3,Ng6,Rde1,Re8,Ne2,Re7,g3,Rae8,h4,Kf7,h5,Nf8,Nf4,Nh7,Ng6,Rd7,f4,Nf6,a4,Nxh5,Nh4,Nf6,axb5,axb5,Ra1,Be4,Bd1,Bd3,Re1,Ne4,Bf3,Nxg3,Bc6,Ree7,Bxd7,Rxd7,Ra5,Rb7,Rea1,Ne2+,Kf2,Nxf4,Ra7,Rxa7,Rxa7+,Kf6,Rd7,d5,Nf3,g5,Ne5,g4,Rf7+,Kg5,Rb7,Nh3+,Kg3,f4+,Kg2,Be4+,Kh2,f3,Rg7+,Kh5,Nxg4,Nf4', 'Nf6+,Kh4,Rg4#', 'https://lichess.org/training/O1zUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O22Ds', 'Classical', 'DHAIRYAKUMAR', 1875, 'zMonster', 1802, 'd4,e6,Nc3,d5,Bf4,c5,e3,Nd7,Nb5,Qa5+,c3,e5,dxe5,a6,e6,axb5,exd7+,Bxd7,Qxd5,Bc6,Qe5+,Be7,Qxg7', 'Bf6,Be5,Bxg7', 'https://lichess.org/training/O22Ds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o24bb', 'Blitz', 'ucGM-Kaspa', 2111, 'hurovsky', 2272, 'Nf3,c5,e4,Nc6,Bb5,e6,Bxc6,bxc6,Nc3,Ne7,Ne2,Ng6,Ng3,Be7,O-O,O-O,c3,Rb8,d4,cxd4,cxd4,d5,e5,c5,Rb1,cxd4,Qxd4,Qa5,a3,Bc5,Qg4,Qc7,Nh5,Ba6,Re1,Bd3,Bg5,Bxb1,Rxb1,Bxa3,Qh3,Rxb2,Rf1,Qc2,Nxg7,Bc5,Nh5,Qxf2+,Rxf2', 'Rb1+,Bc1,Rxc1+,Ne1,Rxe1#', 'https://lichess.org/training/o24bb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o27Uf', 'Rapid', 'Reza8rna', 2306, 'Arsenicum7', 2230, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,Bg5,Nc2,O-O,a4,bxa4,Rxa4,Rb8,Ncb4,Nxb4,Nxb4,Bb7,Bxa6,Bxe4,O-O,Bh6,Bd3,Bb7,Qc2,g6,Be4,d5,Rd1,d4,Bxb7,Rxb7,cxd4,exd4,Nc6,Qb6,Rb4,Qc7,Rc4,Bg7,Nxd4,Qb6,b4,Rd8,Nc6,Rxd1+,Qxd1,Bf6,h3,Qb5,Rc5,Qb6,Qd5,Qa6,g3,Qa1+,Kg2,Qb2,Ra5,Kg7,Ra8,h5,Re8,h4,g4,Bc3,Ne7,Qxb4,Rg8+,Kh6,g5+,Kh5,Qf3+,Kxg5,Qf5+,Kh6', 'Rxg6+,fxg6,Qxg6#', 'https://lichess.org/training/o27Uf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o29CK', 'Rapid', 'pairbishops', 1746, 'Badalonafreedom', 1788, 'e4,e6,d4,d6,d5,Nf6,dxe6,Bxe6,e5,Nd5,exd6,Bxd6,Nf3,Nc6,c4,Nf6,Nc3,O-O,Be3,Bb4,Qb3,Ne4,Be2,Bxc3+,bxc3,b6,O-O,Re8,Rfd1,Qe7,Nd4,Nxd4,cxd4,Rad8,f3,Nf6,Bf2,Bf5,Bf1,h6,d5,Qd6,Bg3,Qc5+,Bf2,Qd6,Rac1,Bd7,c5,Qf4,c6,Bf5,Rc4,Qg5,h4,Qg6,Re1,Rxe1,Bxe1,Nxd5,Rd4,Be6,Bc4,Qf6,Rxd5', 'Bxd5,Bxd5,Qd4+', 'https://lichess.org/training/o29CK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o2Ati', 'Rapid', 'peggiodimenessuno', 1794, 'SPorf', 1784, 'e4,c5,Nf3,Nc6,Bc4,d6,Nc3,Nf6,d3,e5,Ng5,Be6,Nxe6,fxe6,Bxe6,Qe7,Bh3,Qf7,Qf3,Be7,Nd5,O-O,Nc7,Nd4,Qd1,Rac8,Bxc8,Rxc8,Nd5,Nxd5,exd5,Qxd5,c3', 'Qxg2,cxd4,Qxh1+', 'https://lichess.org/training/o2Ati');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o2CeO', 'Blitz', 'danielbiss', 1550, 'mr_globetrotter', 1537, 'e4,e5,Nf3,Qf6,Bc4,h6,O-O,d6,d3,c6,a3,Be7,Nc3,Qg6,g3,Bh3,Re1,Bg4,Re3,Nf6,Ne2,Nh5,Nd2,f5,Qe1,f4,gxf4,Bf3+,Ng3,Nxg3,fxg3,Bh5,f5,Qf6,Nf3,a6,Nh4,b5,Ba2,Bf7,Qf2,Bxa2,Rxa2,O-O,Ra1,Nd7,Rf3,Nc5,Ng6,Rfe8,Nxe7+,Rxe7,b4,Nd7,Bb2,c5,Rf4,cxb4,axb4,Nb6,Rg4,Rc8,Qxb6,Rxc2,Rb1,Rd2,Qxa6,Rxd3,Qxb5,Re3,Qb6,Qf7,Qd8+,Re8,Qxd6,Qb3,Qg6,Re7,Kg2,Re2+,Kh3,Qf3,Bxe5', 'Qg2+,Kh4,Qxh2#', 'https://lichess.org/training/o2CeO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O2DgY', 'Blitz', 'Nightmarish_Pawn', 2387, 'NM MichailovM', 2530, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,Bd7,Bb3,Rc8,g4,Ne5,h4,h5,gxh5,Nxh5,O-O-O,b5,Rhg1,a5,f4,Nc4,Qe2,Nxe3,Qxe3,a4,Bd5,e6,Bb7,Rc5,f5,exf5,exf5,Re8,Qf3,Bxf5,Ndxb5,Qxh4,Nxd6,Rb8,Qe3,Qb4,Qf3,a3,Nd5,Qxb2+,Kd2,Rxc2+,Ke1,Re8+,Nxe8,Bh6,Ne7+,Kf8,Nxg6+,Bxg6,Nd6,Bd2+,Kf1,Nf6,Bd5,Nxd5,Qxd5,Qf6+,Nf5,Bb4,Qd8+,Qxd8', 'Rxd8#', 'https://lichess.org/training/O2DgY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O2dxq', 'Classical', 'wierwa', 2118, 'Couraj', 2064, 'd4,a6,Nf3,e6,e3,c5,Bd3,Nf6,Nbd2,d5,b3,cxd4,exd4,Be7,O-O,O-O,Bb2,b5,a3,Bb7,Ne5,Nbd7,f4,Ne4,Rf3,Ndf6,Rh3,Nxd2', 'Bxh7+,Nxh7,Qh5,Bh4,Rxh4,Qxh4,Qxh4', 'https://lichess.org/training/O2dxq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O2Enx', 'Blitz', 'juanjoSj', 1763, 'ruarmo2000', 1608, 'd4,c6,c4,d5,Nc3,Nf6,Nf3,Bg4,Bg5,e6,h3,Bh5,Rc1,Be7,e3,O-O,Be2,h6,Bf4,Ne4,O-O,Nd7,cxd5,exd5,a3,Ndf6,Re1,Re8,b4,Nxc3,Rxc3,Ne4,Rc2,a5,Qb1,axb4,axb4,Ra4,b5,Rb4,Qa2,Bxf3,gxf3,Ng5,bxc6,Nxh3+,Kg2,Nxf4+,exf4,bxc6,Rxc6,Qb8,Qxd5,Qxf4,Bc4,Rd8,Qe4,Qg5+,Kf1,Bf6,d5,Qd2,Rxf6,Rxc4,Qxc4,gxf6,Qg4+,Kh8,Qf5,Rxd5,Qxf6+,Kg8', 'Re8+,Kh7,Qxf7#', 'https://lichess.org/training/O2Enx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o2ewj', 'Classical', 'drewtuck', 2063, 'hrony', 1916, 'd4,d5,c4,e6,Nc3,c6,e3,Bb4,Nf3,f5,Qb3,Bxc3+,Qxc3,Nf6,Bd3,O-O,O-O,Ne4,Qc2,Qf6,b3,Nd7,Bb2,Qg6,Rac1,Ng5,Nxg5,Qxg5,f4,Qh4,Rf3,Nf6,Rh3,Qg4,Rf1,Ne4,Be2,Qg6,Ba3,Rf7,Bh5,Qf6,Bxf7+,Qxf7,Qe2,Bd7,Qe1,b6,Qh4,h6,cxd5,exd5,Rc1,c5,dxc5,bxc5,Bxc5,Rc8,b4,a5,a3,axb4,axb4,Nxc5,bxc5,d4,exd4,Qd5,Qf2,Bc6,Re3,Rd8,Re5,Qxd4,Qxd4,Rxd4,Rxf5,Rd2,g3,Rg2+,Kf1,Rxh2,Re5', 'Rh1+,Ke2,Rxc1', 'https://lichess.org/training/o2ewj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O2j8c', 'Rapid', 'lgrcapon', 1692, 'Lorienal_Richie', 1646, 'd4,Nf6,e3,d5,c4,c6,Nf3,Bg4,h3,Bh5,Be2,Nbd7,Nc3,e6,a3,Be7,O-O,O-O,Re1,Bg6,Bd3,Bxd3,Qxd3,dxc4,Qxc4,Qc7,a4,a6,b3,Rac8,Bb2,b5,axb5,axb5,Qd3,h6,Rac1,Nb6,Kh1,Nbd5,Nxd5,Nxd5,Bc3,Ra8,Red1,Ra2,Kg1,Rfa8,Ra1,b4,Rxa2,Rxa2,Ra1', 'Nxc3,Rxa2,Nxa2', 'https://lichess.org/training/O2j8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O2kha', 'Rapid', 'BrunoCRO_1985', 1860, 'Majesteler1', 1803, 'd4,e5,d5,Nf6,Nc3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,b6,g3,Bb7,Bg2,c6,d6,b5,Bxe5,Na6,e3,Re8,Qd4', 'c5,Bxb7,cxd4', 'https://lichess.org/training/O2kha');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o2Q7h', 'Rapid', 'algart', 1632, 'Shevchenko_vlad', 1819, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,g3,e6,Bg2,h6,O-O,Be7,Be3,Nbd7,Qd2,O-O,Nf3,b5,Bxh6,gxh6,Qxh6,Nh7,h4,f6,Nd4,Ne5,f4,Ng4', 'Qg6+,Kh8,Qxg4', 'https://lichess.org/training/o2Q7h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O2sAX', 'Blitz', 'Wolexide', 1590, 'MergenNemeevGM', 1534, 'c4,Nf6,Nc3,g6,e4,Bg7,d4,d6,Nf3,O-O,Be2,e5,O-O,Qe7,d5,c6,Nd2,h6,b4,Nh7,f3,f5,a4,Nd7,a5,a6,b5,axb5,cxb5,cxb5,Nxb5,b6,Nc7,Rxa5,Rxa5,bxa5,Ne6,Nc5,Nxf8,Qxf8,Nc4,a4,Ba3,Nf6,Bxc5,dxc5,Qxa4,Bd7,Qa7,Bb5,Rb1,Bxc4,Bxc4,fxe4,fxe4,Kh7,Rb8,Qd6,Rb6,Qf8,d6,Nxe4,Rb8', 'Qf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/O2sAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O2STX', 'Rapid', 'hmdakbari', 1831, 'daskas9', 1854, 'd4,d5,Nf3,Nf6,e3,Bf5,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,cxd5,Nxd5,c4,Ne7,Be2,h6,O-O,Nd7,Bb2,c6,Nd2,Bh7,Bf3,Ng6,d5,cxd5,cxd5,Nde5,dxe6,Nxf3+,Qxf3,fxe6,Qe2,Ne7,Rfd1,Nd5,Ne4,Bxe4,f3,Bg6,e4,Qb6+,Bd4,Qa5,exd5,exd5,Qe5,Rf7,Bc3,Qc5+,Bd4,Qa5,Kh1,Rc8,Bb2,Rc2,Qxd5', 'Qxd5,Rxd5,Rxb2', 'https://lichess.org/training/O2STX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o2TbR', 'Blitz', 'Scozzesi', 1934, 'Ttaha1388', 1928, 'e4,c5,b4,d6,Bb2,cxb4,Nf3,d5,exd5,Qxd5,d4,Nc6,c4,bxc3,Nxc3,Qd8,d5,Nb8,Bb5+,Bd7,Bc4,Nf6,O-O,e6,Re1,Be7,dxe6,Bxe6,Qxd8+,Bxd8,Bxe6,fxe6,Rxe6+,Kf7,Rae1,Nbd7,Nb5,Nc5,R6e5,Nd3', 'Nd6+,Kg8,Re8+,Nxe8,Rxe8#', 'https://lichess.org/training/o2TbR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O2Uuh', 'Blitz', 'AveCruxAlba', 2435, 'FM TorVik-1', 2507, 'Nf3,d5,d4,Nf6,c4,c6,Nc3,e6,e3,Nbd7,Qc2,Bd6,b3,O-O,Bb2,e5,cxd5,cxd5,dxe5,Nxe5,Be2,Nxf3+,Bxf3,d4,exd4,Re8+,Ne2,Bg4,Bxg4,Nxg4,h3,Qh4,O-O,Rac8,Qd3', 'Bh2+,Kh1,Nxf2+,Rxf2,Qxf2', 'https://lichess.org/training/O2Uuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o2VRg', 'Rapid', 'Hiyawata', 1911, 'mkqa', 1974, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,e5,Ng4,Qxg4,d5,Qxg7,Rf8,Bd3,Qh4,O-O,Be6,Qf6,Qg4,h3,Qh5,Qg5,Qxg5,Bxg5,Rg8,h4,h6,Bf6,Kd7,g3', 'Rxg3+,Kh1,Rh3+,Kg2,Rg8+', 'https://lichess.org/training/o2VRg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o2WZH', 'Rapid', 'RudiCigelski', 2138, 'Ken_Maynard', 2158, 'e4,e5,Nc3,Bc5,f4,Bxg1,Rxg1,exf4,d4,Qh4+,g3,Qxh2,Rg2,Qh1,Bxf4,d6,g4,Qh4+,Bg3,Qxg4,Qxg4,Bxg4,Nd5,Kd7,Bh4,h5,Ne3,Nh6,Bg5,Bf3,Rf2,Bxe4,Bxh6,gxh6,Rxf7+,Kc6,c4,b6,d5+,Kb7,Bh3,Na6,Bd7,Raf8,Bc6+,Kb8,Re7,Bd3,Kd2,Bg6,a3,Be8,Rh1,Bxc6,dxc6,Rf2+,Kc3,Nc5,Rxh5,Na4+,Kb3,Nxb2,Nd5,Nd3,Nxc7,Rb2+,Kc3,Nf4,Rf5,Rf2,Na6+,Ka8,Rff7,Ne2+,Kb4,Rxf7,Rxf7,Nd4,Nc7+,Kb8,Na6+,Kc8,Rc7+,Kd8,Kc3,Ne2+,Kd2,Ng3,Rxa7,Re8,Rd7+,Kc8,Rxd6', 'Ne4+', 'https://lichess.org/training/o2WZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o32gu', 'Blitz', 'Normanzo', 2213, 'poisedlizard', 1924, 'd4,Nf6,c4,e6,Nc3,Bb4,g3,O-O,Bg2,c6,Nf3,d5,O-O,dxc4,Ne5,Nd5,Qc2,b5,a4,Bxc3,bxc3,Bb7,f4,f6,Ng4,h5,Nf2,a6,e4,Nc7,Bf3,Nd7,Bxh5,Nb6,axb5,cxb5,Bf3,f5,Bg2,b4,exf5,Bxg2,Kxg2,Qd5+,Qe4,Qxe4+,Nxe4,exf5,Ng5,bxc3,Ba3,Rfe8,Bc5,Ncd5,Rf2,Ne3+,Kg1,Nbd5,Nf3,Ng4,Rfa2,Reb8,h3,Nge3,Ne5,Rb2,g4,fxg4,hxg4,Rxa2,Rxa2,Rb8,Ba3,Rb1+,Kf2,c2,g5,c1=Q,Bxc1,Rxc1,Rxa6,c3', 'Ra8+,Kh7,g6+,Kh6,Rh8#', 'https://lichess.org/training/o32gu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3392', 'Rapid', 'shivamnimzo', 2302, 'toons1983', 2315, 'd4,d5,e4,dxe4,f3,exf3,Nxf3,Nf6,Bc4,e6,O-O,Be7,Nc3,O-O,Qe2,c5,dxc5,Bxc5+,Kh1,Nc6,Bg5,Be7,Rad1,Qc7,a3,a6,Bd3,b5,Ne4,Nd5,Bc1,Nf4,Bxf4,Qxf4,Nfg5,Qh4,Nxh7,Kxh7,Rf3,Nd4,Nf6+,Kh8,Qe4,Qxe4', 'Rh3+,Qh7,Rxh7#', 'https://lichess.org/training/o3392');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O34LF', 'Rapid', 'Actarus19', 1748, 'AleshaPoflexsih', 1611, 'd4,Nc6,Bf4,e6,e4,Nf6,e5,Nd5,Bg3,f5,c4,Bb4+,Nc3', 'Nxc3,bxc3,Bxc3+', 'https://lichess.org/training/O34LF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o377g', 'Rapid', 'LittleJohn1', 1678, 'JoelRutman-78', 1640, 'Nf3,c5,c4,e6,Nc3,Nc6,g3,Nf6,Bg2,Be7,O-O,O-O,d4,d5,cxd5,exd5,e3,Re8,Re1,Bg4,h3,Bd7,Nd2,Be6,e4,dxe4,Ndxe4,cxd4,Nxf6+,Bxf6,Ne4,Be7,Bf4,Qd7,Qh5,Nb4,Ng5,Bxg5,Bxg5,Nc2,Be4,h6,Bxc2,d3,Bb3,hxg5,Bxe6,Rxe6,Rxe6,Qxe6,Rd1,Rd8,Qxg5,Rd5,Qe3,Qa6', 'Qe8+,Kh7,Qe4+,f5,Qxd5', 'https://lichess.org/training/o377g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3BUz', 'Rapid', 'Moliday', 1676, 'predator90', 1624, 'd4,Nf6,Nf3,e6,e3,d5,a3,Be7,c4,O-O,Qc2,c5,dxc5,Bxc5,b4,Be7,cxd5,Nxd5,Bb2,a6,Bd3,g6,O-O,Bf6,Bxf6,Nxf6,Rd1,Qe7,Nbd2,b5,Ne4,Bb7,Nxf6+,Qxf6,Be4,Bxe4,Qxe4,Ra7,Rac1,Nd7,Qd4,Qe7', 'Qxa7', 'https://lichess.org/training/o3BUz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3c2G', 'Rapid', 'nerbrey', 1621, 'papo100', 1762, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,d6,Nc3,Nf6,h3,Be6,Bd2,Be7,O-O-O,Qd7,Kb1,a6,f4,g6,g4,Qc8,f5,gxf5,gxf5,Bd7,Bc4,Ne5,Bb3,Bc6,Nf3,Nxf3,Qxf3,Qd7,Rhg1,Rf8,Bh6,Rh8,Bg7,Rg8,Bxf6,Rxg1,Rxg1,Bxf6,Rg8+,Ke7,Rxa8,b5,Nd5+,Bxd5,Bxd5,c6,Bb3,Qb7,Rg8,c5,a3,c4,Ba2,Qb6,e5,Bxe5,Qa8,Qd4,Qf8+,Kf6,Bxc4', 'Qxb2#', 'https://lichess.org/training/o3c2G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O3ct8', 'Rapid', 'zembelek1', 1995, 'Madom', 1701, 'b4,Nf6,Bb2,e6,b5,c5,e3,b6,c4,a6,Nf3,axb5,cxb5,d5,a4,Bd7,d3,Bxb5', 'axb5,Rxa1,Bxa1', 'https://lichess.org/training/O3ct8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3dEH', 'Classical', 'Markhor3', 1639, 'polor2206', 1655, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Bd7,Ba4,h6,Ne4,Be7,O-O,O-O,d3,Rb8,a3,Nxe4,dxe4,Qc8,b4,Nb7,Qg3,Kh8,Qxe5', 'Bf6,Qg3,Bxa1', 'https://lichess.org/training/o3dEH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3EC6', 'Rapid', 'TarenOP', 1825, 'Moonroof', 1778, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,g3,Nf6,Nc3,Bb4,Bg2,O-O,O-O,Bxc3,bxc3,d5,exd5,cxd5,Bg5,Be6,c4,e4,cxd5,Qxd5,Bxf6,gxf6,Qe2,f5,Rfd1,Qc5,a4,a5,Rdc1,Rac8,Qb5,Rfd8,Qxc5,Rxc5,c3,Rd3,Ra3,Kg7,Bf1,Rd2,c4,Kf6,Rb3,Bd7,Ra3,Ke5,f3,e3,Rxe3+,Kd4,Ra3,f4,g4,h5,h3,hxg4,hxg4,f5,Rcc3,fxg4', 'Rd3+,Rxd3,Rxd3+,Ke5,Rxd7', 'https://lichess.org/training/o3EC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O3Eje', 'Classical', 'MVS-13', 1602, 'EgorrogAchev', 1682, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,b5,O-O,Bb7,Bf4,h6,Nd2,Bc5,N4b3,Ba7,Nf3,Ne7,Re1,Ng6,Bg3,h5,Be5,Nxe5,Nxe5,Qf6,Nf3,Qxb2,Qd2,Qf6,e5,Qh6,Qe2,h4,h3,Rg8,Nfd4,g5,Be4,Nc6,Nxc6,Bxc6,Bxc6,dxc6,Kh2,g4,Rg1,Bxf2,Rgf1,Bg3+,Kh1,gxh3,gxh3,Qg5,Qf3,Bxe5,Qxf7+,Kd8,Rad1+,Kc8,Rg1,Bg3,Qxe6+,Kb7,Nc5+,Kb6,Nd7+,Kc7,Qe2,Rad8,Qd3,Qe7,Qd4,Rxd7,Qa7+,Kc8,Qxa6+,Rb7,Qxc6+,Qc7', 'Qe6+,Kb8,Qxg8+', 'https://lichess.org/training/O3Eje');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3g9k', 'Rapid', 'Mutantgoose', 1929, 'enigma99', 2066, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,c3,O-O,O-O,d5,Nbd2,h6,Re1,dxe4,dxe4,Re8,Qe2,Bf8,Nf1,g6,Ng3,Bg7,Be3,Bb7,Rad1,Qe7,Qd2,Kh7,h3,Na5,Bc2,Nc4,Qc1,Rad8,b4,Nxe3,Qxe3,Rxd1,Rxd1,Rd8,Rd3,Rxd3,Qxd3,c5,c4,bxc4,Qxc4,cxb4,Nd2,Ne8,Bb3,Kg8,Qd3,Nc7,Bc4,a5,Nb3,a4,Na5,Ba8,Bb5,Nxb5,Qxb5,a3,f3,Bf8,Kh2,Qc5,Qa6,Qf2,Qxa8,Qxa2,Qd5,Qxd5,exd5,a2,Nb3,Bc5,Ne2,Bd4,Nexd4,exd4,Kg3,g5,f4,f5,fxg5,hxg5,Kf3,Kf7,Ke2,Kf6,Kd3,Ke5,d6,Kxd6,Kxd4,Ke6,g3', 'f4,gxf4,gxf4', 'https://lichess.org/training/o3g9k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O3kTm', 'Rapid', 'MasihBelajarBro', 2135, 'Askar2393', 2149, 'c4,Nf6,g3,e6,Bg2,d5,cxd5,exd5,e3,c6,d4,Bd6,Ne2,O-O,Nbc3,Bf5,Qb3,Qb6,Qxb6,axb6,O-O,Nbd7,a3,Rfe8,Bd2,h6,a4,Bb4,h3,Ra5,f3,Bd3,Kf2,Rea8,Rfc1,Bxe2,Kxe2,Bxc3,Bxc3,Rxa4,Rxa4,Rxa4,e4,b5,e5,Ne8,f4,Nb6,Kd3,Ra2,Bf3,Nc4,Rc2,Nc7,b3,Rxc2,Kxc2,Ne3+,Kd3,Nf5,g4,Nh4,Bd1,Ng2,Bd2,Ne6,f5,Nef4+,Kc3,Nxh3,Kb4,Nf2,Bf3,Ne4,Bc1,Ne1,Bxe4,dxe4,Kc5,Nd3+,Kd6,Nxc1', 'e6,fxe6,fxe6', 'https://lichess.org/training/O3kTm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3Mpt', 'Blitz', 'PM10', 2102, 'Monarchista', 2105, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bc4,e6,c3,Ngf6,O-O,Bd6,Qb3,Qc7,Re1,O-O-O,a4,e5,dxe5,Nxe5,Nxe5,Bxe5,Bg5,Rhe8,a5,a6,Be3,Qb8,Bxf7,Bxf7,Qxf7,Rd7,Qb3,h5,Bb6,h4,Nf5,Bxh2+,Kf1,Rxe1+,Rxe1,Qf4,Qg8+,Nxg8', 'Re8+,Rd8,Rxd8#', 'https://lichess.org/training/o3Mpt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O3MSl', 'Rapid', 'xyzloser', 1758, 'parviz112', 1832, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Bc4,Nf6,Qb3,Qd4,Bxf7+,Kd8,Qxb7,Ng4,O-O,Bc5,Bg5+,Kd7,Be3,Nxe3,c3,Qd3,Na3,Nxf1,Rxf1,Qe2,Qd5+,Bd6,Be6+,Ke7,Qxa8,Kxe6,Qd5+,Ke7,Nc4,Rf8,Nxe5,Nd7', 'Nc6+,Ke8,Qe6+,Be7,Qxe7#', 'https://lichess.org/training/O3MSl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3nHo', 'Rapid', 'Zegrion', 1973, 'fauzan81', 1886, 'e4,d6,Nf3,b6,d4,e6,Nc3,Bb7,d5,e5,Bb5+,Nd7,Bg5,Be7,Qd2,h6,Bxe7,Qxe7,Qe2,Nf6,Ba6,Bxa6,Qxa6,Nc5,Qe2,O-O,b4,Ncd7,h3,Nh7,O-O,Ng5,Nxg5,Qxg5,a4,a6,Qd3,Nf6,Rae1,Nh5,Qe3,Nf4,Ne2', 'Qxg2#', 'https://lichess.org/training/o3nHo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3NSp', 'Rapid', 'Sayedmadkor', 1895, 'argatour2', 1808, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bd6,h3,Nf6,Nc3,O-O,O-O,Re8,Nh2,h6,Be3,c5,Ne2,b5,Ng3,Bb7,a3,c4,dxc4,Nxe4,Nxe4,Bxe4,cxb5,axb5,c3,Qf6,f3,Bc6,Ng4,Qg6,Qb1,e4,f4,h5,Ne5,Bxe5,fxe5,Rad8,Qe1,Rxe5,h4,Rd3,Rf2,Qg3', 'Bf4,Qg4,Bxe5', 'https://lichess.org/training/o3NSp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3pu2', 'Rapid', 'saloumacharouka', 1954, 'aurelio890', 1674, 'e4,e6,d4,b6,Nd2,Bb7,c3,Na6,Bd3,Qg5,Qf3,O-O-O,a4,f5,Nc4,Qe7,Nh3,Nf6,Bg5,h6,Bxf6,gxf6,Qe3,Rg8,b4,d5,exd5,exd5,Qxe7,Bxe7,Bxf5+,Kb8,Ne3,c6,O-O,Nc7,Nf4,Rg5,h4,Rgg8,Ng4,Bd6,Nh5,Bc8,Bxc8,Kxc8,Ngxf6,Rg6,Rfe1,Rf8,a5,b5,Re2,Rfxf6,Nxf6,Rxf6,Rae1,Rg6,Re3,Bf4,R3e2,Rg4,g3,Bd6,Kg2,Kd7,Kh3,h5,Rg1,Ne6,f3,Rg8,f4', 'Nxf4+,gxf4,Rxg1', 'https://lichess.org/training/o3pu2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O3PXK', 'Rapid', 'hegel_menotti', 1919, 'B1rd23', 1870, 'd4,Nf6,e3,d5,c4,e6,Nc3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,b6,Bd3,Bb7,Qc2,dxc4,Bf1,Be4,Qa4,Qd5,Bxc4,Qg5,Nf3', 'Qxg2,Rg1,Qxf3', 'https://lichess.org/training/O3PXK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3UF6', 'Rapid', 'Agapitos1', 1695, 'mherms', 1689, 'e4,c5,d3,Nc6,Nh3,e5,Be2,Nf6,O-O,Be7,f4,d6,fxe5,dxe5,Bg5,Be6,c3,h6,Bh4,g5,Bg3,Qd7,d4,cxd4,cxd4,Qxd4+,Qxd4,Nxd4,Bd3,Nh5,Bxe5,Bf6,Bxf6,Nxf6,Rxf6,Ke7,Rf2,Rac8,Nd2,Rhd8,b3,Rc3,Bc4,Nc2,Rc1,a6,Bxe6,Kxe6,Nb1,Rc5,Rcxc2', 'Rd1+,Rf1,Rxf1+,Kxf1,Rxc2', 'https://lichess.org/training/o3UF6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O3vCs', 'Rapid', 'mbaglole', 1602, 'yaavarmo', 1735, 'd4,c6,e4,e6,Bf4,h6,h3,Nf6,Nc3,Bb4,Ne2,d6,a3,Bxc3+,Nxc3,Nbd7,e5,dxe5,dxe5,Nd5,Bd2,Nxc3,Bxc3,O-O,Bd3,Nc5,Be2,Ne4,Qxd8,Rxd8,O-O,Nxc3,bxc3,Rd2,Bd3,c5,Rad1,Rxd1,Rxd1,b6', 'Be4,Bb7,Bxb7', 'https://lichess.org/training/O3vCs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3W5p', 'Blitz', 'alexandrem2001', 1826, 'Dr_MirmovsumAgha', 1816, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bb6,a4,a6,a5,Ba7,c3,Nge7,Qb3,O-O,Ng5,Qe8,d3,h6,Nf3,d6,O-O,Ng6,b5,Nb8', 'b6,cxb6,axb6,Bxb6,Qxb6', 'https://lichess.org/training/o3W5p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O3XQO', 'Rapid', 'PlainJane', 1945, 'oladimeji101', 1898, 'e4,c5,Nf3,Nc6,Bb5,d6,d4,a6,Bxc6+,bxc6,dxc5,Qa5+,Nc3,Qxc5,Be3,Qa5,O-O,e6,Nd4,Bb7,a3,Nf6,b4,Qc7,f4,e5,fxe5,dxe5,Nf3,Rd8,Qe2,Be7,Nh4,O-O,Nf5,Bc8,Nxe7+,Qxe7,Bg5,Qd7,Bxf6,gxf6,Rxf6,Qd4+,Qf2,Qxc3,Rf1,Be6,Rf3,Qd4,Re3,Bc4,Kh1,Bxf1', 'Rg3+,Kh8,Qf6#', 'https://lichess.org/training/O3XQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O3yhG', 'Blitz', 'Asgarov_2004', 1945, 'RaD1bg', 2052, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,h6,Bd3,Bd6,O-O,O-O,c4,b6,Be4,c6,Qc2,Bb7,Rd1,Nd7,d5,exd5,cxd5,c5,Be3,Rfe8,Bf5,Ne5,Nxe5,Qxe5,g3,Bxd5,Bf4,Qe7,Rxd5,Bxf4,gxf4,Qh4,Qd2,g6,Bd7,Re4,Rd1,Rxf4,Bc6,Rg4+,Kh1,Qh3,Rg1', 'Qf3+,Rg2,Qxg2#', 'https://lichess.org/training/O3yhG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O3Yot', 'Blitz', 'VeganSlaughterhouse', 2099, 'Shenjingbing', 2014, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,e4,d5,e5,Ne4,Nf3,c5,a3,cxd4,axb4,dxc3,bxc3,f5,exf6,Nxf6,Bd3,dxc4,Bxc4,Qc7,Qb3,Kh8,O-O,e5,Re1,Nc6,Ng5,Nd8,g3,Bf5,f4,Ng4,Be3,exf4,gxf4,Nxe3,Rxe3,Qxf4,Rg3,Rc8,Bd5,Bd3,Nf3,Be4,Bxe4,Qxe4,Re1,Qd3,Ng5,Qd2,Qb1,g6,Re7,Rxc3', 'Rxh7+,Kg8,Qxg6#', 'https://lichess.org/training/O3Yot');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3YQx', 'Classical', 'Salty_Fat_Slob', 1945, 'Andrew_Shutov', 1971, 'd4,d5,Bf4,Nc6,e3,Nf6,h3,e6,Nf3,Ne4,c3,f5,Ne5,g5,Qh5+,Ke7,Qf7+,Kd6,Ng6+,gxf4,Nxh8,Ng5,Qh5,fxe3,f4,Qf6,fxg5,Qxh8,Na3,a6,O-O-O,Qg7,Re1,Qg6,Qxg6,hxg6,Rxe3,b5,Bd3,b4,Nc2,bxc3,bxc3,a5,Kd2,Rb8,Ree1,e5,Rb1,Rxb1,Rxb1,Be7,dxe5+,Nxe5,h4,Bd7,Nd4,Bc6,Nxc6,Kxc6,Bb5+,Kc5,Be8,Nc4+,Kd3,Ne5+,Kc2,c6,Re1,Bd6,Rxe5,Bxe5,Bxg6,Kc4,Bxf5,Bxc3,h5,Be5,h6,Bf4,h7,Be5,Bd3+,Kd4,Be2,c5,Bf3,c4,g6,Kc5,a3,d4,Be4,Bg7,Bf5,Kd6,Be4,Ke5,Bf3,Kf4,Bd5,d3+,Kd1,c3,Bc4,Ke3,Bb3,Kd4,g4,Kc5,g5,Kb5,Kc1,a4,Be6,Bd4,Bf5,Kc4,Be6+,Kc5,Bf5,d2+,Kc2,Kd6,Bd3,Kc5,Bf5,Bh8,Bd7,Kd4,Bxa4,Kc5,Be8,Kd6,a4,Kc5,Bb5,Kb4,Be8,d1=Q+,Kxd1,Kb3,Bf7+', 'Kb2,Ke2,c2', 'https://lichess.org/training/o3YQx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O3yzF', 'Rapid', 'ahmadradwan95', 1783, 'xvhamvx', 1776, 'e4,e5,Bc4,Nc6,Qf3,Nf6,Ne2,d6,Nbc3,Bg4,Qe3,Nb4,Kd1,Bh5,a3,Ng4,Qg3,Nc6,f3,Nf6,Qf2,Be7,g4,Bg6,h4,h5,g5,Nd7,d3,Nb6,Bb3,Qd7,Be3,f6,Kd2,fxg5,Bxg5,Bxg5+,hxg5,O-O-O,Rad1,Nd4,Nxd4,exd4,Qxd4,Rdf8,Nd5,Rxf3,Nxb6+,axb6,Ba4,Qg4,Qxg7,Qxg5+,Kc3,Qc5+,Kb3', 'Bf7+,Qxf7,Rxf7', 'https://lichess.org/training/O3yzF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o3ZV7', 'Rapid', 'Kostaki', 2082, 'HAITHAMAHMED2020', 1944, 'c4,c5,Nc3,Nc6,Nf3,Nf6,d4,cxd4,Nxd4,e6,Ndb5,d5,cxd5,exd5,Nxd5,Bb4+,Nxb4,Qxd1+,Kxd1,Nxb4,Nc7+,Ke7,Nxa8', 'Rd8+,Bd2,Ne4', 'https://lichess.org/training/o3ZV7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4aZ8', 'Rapid', 'Alorst', 1975, 'eliovana', 1864, 'Nf3,d5,c4,dxc4,e3,Nf6,Bxc4,Nc6,O-O,e5,Ng5,Be6,Bxe6,fxe6,Nxe6,Qd7,Nxf8,Rxf8,Nc3,O-O-O,a3,Ng4,b4,g5,b5,Ne7,a4,h5,a5,Qf5,f3', 'Nxe3,dxe3,Rxd1', 'https://lichess.org/training/O4aZ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4CgX', 'Rapid', 'zoom619', 2075, 'Regenbogenzweihorn', 1960, 'd4,Nf6,c4,e6,Nc3,Bb4,Bf4,O-O,Nf3,c5,dxc5,Bxc5,e3,Nc6,a3,b6,Bd3,Bb7,O-O,Rb8,Qc2,Rc8,Rad1,Re8,Ne5,g6,h4,h5,Bg5,Nxe5,Be2,Be7,Nb5,a6,Bxf6,axb5,Bxe5,bxc4,g3,d5,Bc3,Bf6,Bxf6,Qxf6,Rc1,b5,Qd2,Qf5,Qb4,Bc6,b3,cxb3,Qxb3,Qe5,Bxb5,Bxb5,Qxb5,Rb8,Qd3,Qd6,a4,Ra8,Ra1,Ra5,Rfc1,Rea8,Qd4,Qd7,Rcb1,Qa7,Qxa7,R8xa7,Rb4,Kg7,Kf1,Kf6,Ke2,Ke5,Kd3,Kd6,f4,f6,Rb6+,Ke7,Rb4,R7a6,Ra2,Kd6,Ra3,f5,Kd4,Rc6,Rc3,Rca6,Rc8,Rxa4,Rxa4,Rxa4+,Kd3,Ra3+,Kd2,Ke7,Rc7+,Kf6,Rc6,Ra2+,Kd3,Rg2,Rc2,Rxg3,Rh2,Rg1,Kd4,Rd1+,Kc3,Ra1,Kd4,Ra4+,Kc3,Rc4+,Kd3,Re4,Kd2,Ke7,Kd3,Kd6,Rg2,Kc5,Rxg6,Ra4,Rxe6,Ra3+,Ke2,Ra2+,Kf3,Rh2,Kg3,Re2,Re5,Kd6,Re8,d4,Rd8+,Kc7,Rxd4,Rxe3+,Kf2,Re4', 'Rxe4,fxe4,Ke3', 'https://lichess.org/training/O4CgX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4dLe', 'Rapid', 'sega_mur', 1885, 'TchablobsCRUSHER', 1663, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bc4,Bb4,Nxc6,bxc6,e5,Nd5,Bd2,Qb6,O-O,O-O,Nxd5,cxd5,Bb3,Ba6,Be3,Bc5,Re1,Qc7,Bg5,h6,Bh4,g5,Qg4,Qb6,Bg3,f6,Qh5,Kg7,exf6+,Rxf6,Be5,Bxf2+,Kh1,Bxe1,Bxf6+,Kxf6,Qxh6+,Ke7,Qxg5+,Kd6,Rxe1,Qf2,Qe5+,Kc6,Ba4+,Kb7,Bxd7,Rf8,h3,Bf1,Rxf1,Qxf1+,Kh2,Rg8,g4,Qf2+,Kh1,Qf3+,Kh2,Qf2+,Kh1,Qxc2,Bxe6,Qd1+,Kh2,Qc2+,Kg3,Qd3+,Kh4,Rd8,Qg7+,Kc6,Bf5,Qc4,Qf6+,Kc7', 'Qe7+,Kc6,Qxd8', 'https://lichess.org/training/O4dLe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4dVV', 'Rapid', 'Weedisgoodforu', 1846, 'mannuly7', 1984, 'e4,c6,d4,d5,Nd2,c5,exd5,Nf6,dxc5,Nxd5,Bc4,e6,Qf3,Bxc5,Ne4,Be7,Nh3,O-O,O-O,Nc6,Rd1,Ne5,Qb3,Nxc4,Qxc4,Bd7,Bg5,Bxg5,Nexg5,Rc8,Qh4,h6,Nf3,Rxc2,Qxd8,Rxd8,Rab1,f6,Nd4,Rc7,a3,Bc8,Nb5,Rcd7,Nxa7,b6,Nxc8,Rxc8,Nf4,Re8,Rbc1', 'Nxf4,Rxd7,Ne2+,Kf1,Nxc1', 'https://lichess.org/training/O4dVV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4GGG', 'Rapid', 'Miklegro', 1793, 'sutek001', 1933, 'e4,e6,d4,d5,exd5,exd5,Nc3,Bb4,Bd2,Nf6,Qf3,Bg4,Qe3+,Qe7,Qxe7+,Bxe7,f3,Bh5,g4,Bg6,g5,Nfd7,Nxd5,Bd6,O-O-O,O-O,f4', 'Be4,Nc3,Bxh1', 'https://lichess.org/training/O4GGG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o4Lcp', 'Classical', 'hugozwolle', 1656, 'nvls', 1642, 'e4,e6,d4,d5,exd5,exd5,Nc3,Bb4,a3,Bxc3+,bxc3,Nf6,Nf3,O-O,c4,Re8+,Be3,c6,cxd5,Nxd5,Qd2,Bg4,Be2,Nxe3,fxe3,Bxf3,Bxf3,Qh4+,Qf2,Qxd4,O-O,Rxe3,Rad1,Qb6,Bxc6,Nxc6', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/o4Lcp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o4MU3', 'Rapid', 'yracezor', 1886, 'vadim-1712', 1917, 'e4,e5,f4,exf4,Nf3,d6,d4,g5,h3,Be7,Bd3,Nc6,c3,Bf6,O-O,Nge7,b4,Ng6,b5,Nce7,Re1,O-O,e5,dxe5,dxe5,Bg7,Nxg5,Bxe5,Bxg6,Nxg6', 'Qh5,Qxg5,Qxg5', 'https://lichess.org/training/o4MU3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4Mzc', 'Classical', 'SelukaB', 1932, 'beginningless', 1935, 'c4,e5,e4,Nf6,d3,d6,Nc3,c5,Nf3,Be7,Be3,Nc6,Be2,Nd4,O-O,O-O,Nd2,Nxe2+,Qxe2,Ng4,f4,Nxe3,Qxe3,exf4,Qxf4,Bg5,Qf2,f5,Qe2,f4,Nd5,Be6,Nf3,Bxd5,cxd5,Rf7,Rf2,Bh4,Rff1,Qf6,b3,Raf8,Rad1,g5,Nxh4,gxh4,Rf3,Qg5,Kh1,Rg7,Rdf1,Kh8,Qd2,h5,R1f2,Rgf7,Qb2+,Kh7,d4,Qg4,h3,Qc8,e5,dxe5,dxe5,Rf5,Qc2,Kh6,Qe4,Kg5,e6,Qc7,Rd2,Re5,Qc4,Re1+,Kh2,Qd6,Re2,Rd1,e7,Re8,Re6,Qxd5', 'Qxf4#', 'https://lichess.org/training/O4Mzc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o4n2r', 'Blitz', 'Leo_68', 2166, 'michamib', 2332, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Be3,Nd7,f4,g6,Nf3,h5,O-O,Ne7,g3,Nf5,Bf2,Bg7,h3,Qb6,Nbd2,c5,dxc5,Nxc5,Qa3,Rc8,b4,Qa6,Qb2,Na4,Qc1,Nc3,Kg2,Qe2,Re1,Qa6,Nb3,Rc4,a3,O-O,Nc5,Qb5,Qd2,b6,Nb7,Ne4,Qe2,Rb8,Nd6,Nfxd6,exd6,Nxd6,Rac1,Qa4,Ne5,Rc3,g4,hxg4,hxg4,Qxa3,g5,Qxb4,Qg4,Nf5,Nd7,Rd8,Nf6+,Bxf6,gxf6,Qc4,Rh1,Qe4+,Kg1,Qf3,Qg5,Ne3', 'Rh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/o4n2r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o4n7i', 'Rapid', 'VAFAEV', 1773, 'dalejos', 1766, 'e4,d6,d4,Nf6,f3,Nbd7,b3,e5,d5,Be7,Bb2,c6,Nc3,cxd5,Nxd5,Nxd5,Qxd5,O-O,O-O-O,Nf6,Qd2,a5,a4,Bd7,Kb1,Bc6,g4,Qc7,h4,Rfb8,h5,b5,axb5,Bxb5,g5,Nd7,g6,h6,gxf7+,Kxf7', 'Qd5+,Kf8,Bxb5', 'https://lichess.org/training/o4n7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o4nec', 'Rapid', 'speedy__chess', 1684, 'fidel123456', 1623, 'e4,e6,d4,c5,dxc5,Bxc5,Nf3,h6,Bc4,a6,a4,Nc6,O-O,Nge7,c3,O-O,b4,Ba7,Re1,d5,exd5,exd5,Bb3,Bg4,Nbd2,Re8,h3,Bxf3,Nxf3,Qc7,Bxd5,Nxd5,Rxe8+,Rxe8,Qxd5,Bb8,Be3,Ne7,Qe4,Rd8,Bd4,f5,Qe6+,Kh7,Be5,Qc8,Qf7,Bxe5,Nxe5', 'Qxc3,Rb1,Qxe5', 'https://lichess.org/training/o4nec');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o4rmx', 'Blitz', 'Paddel', 1876, 'Knol01', 1892, 'd4,g6,e4,Bg7,Nc3,d6,Be3,Nf6,Qd2,h5,O-O-O,a5,f3,a4,a3,c6,Nh3,b5,e5,Nfd7,e6,fxe6,Bd3,Nf6,Bxg6+,Kd7,Ng5,b4,axb4,a3,Nf7,Qc7,bxa3,Rxa3,Nxh8,Qa7,d5', 'Ra1+,Kb2,Qa3#', 'https://lichess.org/training/o4rmx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4rzq', 'Rapid', 'ozbeky111', 1647, 'ShkodranK', 1617, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,Nc3,Bg7,d3,Nd4,Qd1,a5,Be3,Ne6,Nd5,c6', 'Bb6,Nxd5,Bxd8', 'https://lichess.org/training/O4rzq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4S8C', 'Blitz', 'Fabio__Fernandes', 1607, 'ssapma', 1607, 'e4,e5,Nc3,Nf6,Nf3,Bc5,b3,d6,Bb2,O-O,Qe2,c6,O-O-O,Be6,Kb1,b5,h4,a5,h5,h6,g4,Bxg4,Bh3,a4,Bxg4,Nxg4,Rhg1,Nf6,Nh4,Nbd7,Nf5,g6,hxg6,fxg6,Rxg6+,Kf7,Qh5,Ke6,Rxf6+,Nxf6,Ng7+,Ke7,Qxh6,Kd7,Rg1,axb3', 'Qh3+,Kc7,Ne6+,Kb6,Nxd8', 'https://lichess.org/training/O4S8C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4SLo', 'Classical', 'albertsalvador', 1770, 'Orobio', 1669, 'e3,e5,d3,Nf6,c3,Nc6,Be2,d5,Nd2,Bd6,b3,Bf5,Bb2,e4,d4,O-O,h3,a6,a3,b5,c4,bxc4,bxc4,dxc4,Nxc4,Rb8,d5,Na5,Bxf6,Qxf6,Nxa5,Rb2,Nc6,Bd7,Nd4,Rfb8,Qc1,Ba4,Qc4', 'Rb1+,Rxb1,Rxb1+', 'https://lichess.org/training/O4SLo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4V0a', 'Blitz', 'CM Terminator2018', 2107, 'Uzeni_Tapera', 2248, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bg5,O-O,f4,Nbd7,e5,dxe5,dxe5,Ne8,Nd5,f6,exf6,exf6,Bh4,c6,Nc3,Qe7+,Be2,Nc5,Nf3,Bf5,O-O,Rd8,Qc1,Nd6,Re1,Qc7,Qe3,Rfe8,Qxc5,Bf8,Bxf6,Ne4,Nxe4,Bxc5+,Nxc5,Qd6,Bxd8', 'Qxc5+,Kh1,Rxd8', 'https://lichess.org/training/O4V0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4wrf', 'Rapid', 'Floxer', 1759, 'tragedie', 1730, 'Nf3,g6,g3,Bg7,Bg2,e5,e4,Nc6,O-O,Nge7,c3,O-O,d4,exd4,cxd4,d5,e5,Bg4,h3,Bxf3,Bxf3,Nf5,Be3,Nxe3,fxe3,f5,exf6,Rxf6,Nc3,Qd6,Bxd5+,Kh8,Ne4', 'Rxf1+,Qxf1,Qxd5', 'https://lichess.org/training/O4wrf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o4Xtk', 'Rapid', 'Greatest3', 1871, 'Chanterelle', 1913, 'e4,e6,d3,c5,g3,Nc6,Bg2,Nf6,Nf3,d5,Nbd2,Be7,Qe2,O-O,O-O,Nd4,Nxd4,cxd4,e5,Nd7,Nf3,Bc5,Re1,h6,h4,b5,Nh2,a5,Qh5,Re8,Ng4,Bf8,Bf3,f5,Nxh6+,gxh6,Qg6+,Bg7,Bxh6,Re7,Bg5,Bb7,Bf6,Qe8,Qg5,Rf7,Bh5,Nxf6', 'exf6,Rxf6,Bxe8', 'https://lichess.org/training/o4Xtk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o4YAK', 'Rapid', 'sonemonu', 1685, 'versellersky', 1703, 'd4,e6,Bf4,d5,e3,c5,c4,Nc6,a3,cxd4,exd4,dxc4,Bxc4,a6,Nf3,b5,Ba2,Bb7,Be3,Nf6,O-O,Be7,b4,O-O,Nc3,Rc8,Ne2,Nd5,Bxd5,Qxd5,Nf4,Qe4,Qd3,Qxd3,Nxd3,Bf6,Nc5,Rb8,Nd7,Rfd8,Nxb8,Rxb8,Rfd1,Ne7,Ne5,Nd5,Nd7,Rc8,Nxf6+,Nxf6,f3,Bd5,Rac1,Bc4,g4,Nd5,Kf2,f5,gxf5,exf5,f4,Re8,Re1,Re4,Kf3,Nxe3,Rxe3,Rxd4,Rce1,g6,h4,Kg7,Re7+,Kh6,Ra7,Bd3,Rxa6,Be4+,Kf2,Rd2+,Re2,Rd3,Re3,Rd2+,Re2,Rd3,a4,Rf3+,Ke1,bxa4,Rxa4,Rxf4,b5,Rxh4,b6,Rh1+,Kd2,Rb1,Ra6,Kg5,Kc3,h5,Rb2,Rc1+,Kd2,Rg1,b7', 'Rg2+,Kc3,Rxb2,Kxb2,Bxb7', 'https://lichess.org/training/o4YAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O4yfC', 'Classical', 'Kydzz', 1700, 'Henry816', 1701, 'd4,Nf6,c4,e6,Nc3,a6,e4,Bb4,Bd3,d6,Nf3,h6,O-O,Nbd7,Qc2,c6,b3,O-O,Bb2,Ng4,h3,Ngf6,Rad1,d5,e5,Bxc3,Qxc3,Ne4,Qc2,f5,exf6,Ndxf6,Ne5,Qe8,Ba3,c5,dxc5,Qh5,c6,Qxe5,Bxf8,Kxf8,Bxe4,Nxe4,cxd5,exd5,cxb7,Bxb7,Rfe1,Rc8,Qd3,Rc3,Qd4,Qg5,Rxe4,Rc2,Rg4,Qe7,Qf4+,Kg8,Qb8+,Kh7,Qg3,Rxa2,Qd3+,Kh8,Kf1,Qf6,Rd2,Ra1+,Rd1,Bc6,Rxa1', 'Qxa1+,Ke2,Bb5', 'https://lichess.org/training/O4yfC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O51vB', 'Blitz', 'muri2021', 1894, 'thechessdog', 1866, 'd4,d5,Bf4,Nc6,e3,Bf5,Nc3,e6,Nf3,Nb4,Bd3,Nxd3+,cxd3,Bb4,O-O,Nf6,a3,Bd6,Be5,O-O,Bxf6,Qxf6,e4,dxe4,dxe4,Bg4,e5,Bxf3,Qxf3,Qxf3,gxf3,Be7,f4,f6,Rae1,fxe5,fxe5,Rad8,Re4,Rf5,Nb5,c6,Nc7,Rg5+,Kh1,Rg6,f4,Rc8,Nxe6,Rxe6,f5,Rh6,Rc1,Bg5,Rc2,Rh4,Rxh4,Bxh4,d5,Kf7,b4,Ke7,b5,Kd7,bxc6+,bxc6,Rc4,Be7,d6,Bf8,Rd4,c5,e6+,Kd8,Rd5,c4,d7,Rc7,Kg1,c3,f6,gxf6,Rf5,c2,Rxf6,c1=Q+,Rf1,Qg5+,Kh1,Bd6,Rf8+,Ke7,d8=Q+,Kxe6,Qxg5,Rc1+,Kg2,Rc2+,Kh3', 'Rxh2+,Kg4,Rg2+,Kf3,Rxg5', 'https://lichess.org/training/O51vB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O529V', 'Rapid', 'WetCardboardBox', 1974, 'grennsam', 1937, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Nf6,Re1,b5,Bb3,Na5,c3,Nxb3,Qxb3,Be7,h3,O-O,d4,exd4,cxd4,c5,Bf4,Bb7,e5,c4,exf6,cxb3,fxe7,Qa5,exf8=Q+,Rxf8,Bxd6,Bxf3,Re3,Rd8,gxf3,bxa2,Nc3,b4,Rxa2,Qb6,Bc5', 'Qg6+,Kh2,bxc3', 'https://lichess.org/training/O529V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O53T1', 'Rapid', 'Groucho59', 1769, 'fhBgjd', 1773, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,d5,Ne5,dxe6,dxe6,Qxd8+,Kxd8,Nc3,Nf6,f3,Bb4,Bd2,Ke7,O-O-O,Rd8,a3,Bxc3,Bxc3,Rxd1+,Kxd1,Bd7,Bxe5,Ba4+,Ke1,Ne8,Bd3,Rd8,Ke2,f6,Bc3,Nd6,Bb4,Kf7,Nh3,Nb5,Bxb5,Bxb5+,Ke3,g5,Nf2,f5,e5', 'f4+,Ke4,Bc6#', 'https://lichess.org/training/O53T1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o56nH', 'Rapid', 'SupremePatzer', 1757, 'Tjamela24', 1802, 'e4,c5,Nc3,a6,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Be2,e6,f3,Nge7,O-O,Qc7,Nxc6,bxc6,Qd2,O-O,Bh6,Rb8,Rab1,f5,exf5,Nxf5,Bxg7,Kxg7,a3,d5,Qg5,Nd4,Qd2,c5,Rfe1,Nxe2+,Qxe2,Bd7,b3,Qf4,Qxa6', 'Qd4+,Kh1,Qxc3', 'https://lichess.org/training/o56nH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O57zc', 'Rapid', 'Benxie', 1886, 'stirleng', 1877, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,d3,Nf6,Bxc6,dxc6,Nc3,O-O,Be3,b6,Qd2,Ng4,Bf4,Ba6,h3,Nf6,Ne5,Qc8,Bh6,Rd8,Bxg7,Kxg7,Nf3,c4,Qg5,cxd3,cxd3,Bxd3,Rfe1,Qb7,Nh4,c5,Nf5+,Kg8,Nh6+,Kg7,e5,Ne4,Nxe4,Bxe4,f3,Bc6', 'Nf5+,Kf8,Qh6+', 'https://lichess.org/training/O57zc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O58US', 'Rapid', 'CyberDexter', 1785, 'TanosIdet', 1685, 'e4,e5,f4,d5,exd5,Qxd5,Nf3,exf4,Nc3,Qc6,d4,a6,Bxf4,Bg4,Qe2+,Be7,h3,Be6,Ne5,Qb6,Be3', 'Qxb2,Rb1,Qxc3+', 'https://lichess.org/training/O58US');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o5bzF', 'Rapid', 'gokulprajapat', 1637, 'popopopoooooooo', 1615, 'e4,c5,e5,Nc6,Nf3,d5,exd6,Qxd6,Nc3,Nf6,h3,e5,Bc4,Be6,Bxe6,Qxe6,O-O,Be7,Re1,O-O,d3,Rad8,a3,c4,Qe2,cxd3,cxd3,Na5,Be3,Nb3,Rab1,b6,d4,exd4,Nxd4,Nxd4,Bxd4,Qxe2,Nxe2,Ne4,Bc3,Bc5,Kh2,Bxf2,Rf1,Bg3+', 'Nxg3,Nxc3,bxc3', 'https://lichess.org/training/o5bzF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O5GgL', 'Classical', 'madegoboss', 1669, 'babakkkkk', 1764, 'e4,d5,d4,dxe4,Bc4,Nf6,Nc3,Bf5,Bg5,a6,Bxf6,gxf6,Nd5,e6,Ne3,c6,Nxf5,exf5,Qh5,Qe7,Ne2,Qb4+,c3,Qxc4,Qxf5,Be7', 'Qc8+,Bd8,Qxb7,Nd7,Qxa8', 'https://lichess.org/training/O5GgL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O5Gmt', 'Rapid', 'azkacell', 1682, 'roies', 2184, 'e4,e5,Bc4,Nf6,Qf3,c6,d3,d5,exd5,cxd5,Bb5+,Nc6,Bxc6+,bxc6,Bg5,Be7,Nc3,O-O,Bxf6,Bxf6,Nge2,Rb8,Rb1,e4,dxe4,d4,Nd1,Qa5+,c3,Qxa2,Rc1,Ba6,O-O,Rxb2,Nxb2,Qxb2,Rfe1,d3,Rb1,Qc2,Rec1', 'Qxe2,Qxe2,dxe2', 'https://lichess.org/training/O5Gmt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o5IHk', 'Rapid', 'varkeymanjaly', 1783, 'lavinshaji2007', 1790, 'd4,d5,Nf3,Nf6,Bg5,Ne4,Bh4,c6,Nbd2,Bf5,e3,Qb6,Qc1,e6,Be2,Nd7,a3,c5,c3,Rc8,Nxe4,Bxe4,dxc5,Nxc5,Qd1,Nb3,Ra2,Bd6,Nd4,Nxd4,exd4,O-O,O-O,a6,f3,Bg6,Bg3,e5,Bf2,e4,Be3,Rfe8,f4,f5,Qd2,Rc7,Raa1,Qc6,g3,b5,Rfc1,a5,Qe1,Rec8,Qf1,Qb6,b3,b4,c4,bxa3,c5,Qxb3,cxd6', 'Qxe3+,Kg2,Rxc1', 'https://lichess.org/training/o5IHk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O5jBr', 'Rapid', 'delabourdonnais', 2111, 'MNDrNykterstein', 2245, 'Nf3,Nf6,g3,d5,Bg2,g6,O-O,Bg7,d3,O-O,Nbd2,c5,e4,Nc6,h3,b6,a4,dxe4,dxe4,Ba6,Re1,e5,b3,Qe7,Bf1,Bb7,Bb2,Rad8,Qe2,Nd4,Nxd4,exd4,a5,Rfe8,Bg2,Nd7,axb6,a6,f4', 'd3,cxd3,Bxb2', 'https://lichess.org/training/O5jBr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o5k7S', 'Rapid', 'Arifarslan44', 2067, 'DurDurALAMAZ', 2033, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,a6,Ba4,b5,Bb3,d6,a3,Bg4,h3,Bh5,d3,Nd4,g4,Nxg4,Nxd4,Qh4,O-O,Nxf2,Bxf7+,Kxf7,Rxf2+', 'Qxf2+,Kxf2,Bxd1', 'https://lichess.org/training/o5k7S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o5opI', 'Rapid', 'SgtMth', 1663, 'Neo-89', 1659, 'e4,c5,Nf3,Nc6,Bb5,Qc7,Nc3,Nf6,d3,Nd4,Nxd4', 'cxd4,Ne2,Qa5+', 'https://lichess.org/training/o5opI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O5se4', 'Rapid', 'Vapry', 2004, 'tsrv77', 1968, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bb5+,Bd7,Qe2,a6,Ba4,b5,Bb3,e6,O-O,Be7,c3,O-O,Bc2,Nc6,Bg5,e5,Nxc6,Bxc6,Nd2,Nd7,Bxe7,Qxe7,Rfd1,d5,Nf1,dxe4,Bxe4,Bxe4,Qxe4,f6', 'Qd5+,Qf7,Qxd7', 'https://lichess.org/training/O5se4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O5Smq', 'Blitz', 'FM MassiNas', 2254, 'FM joris01', 2392, 'd4,f5,e4,fxe4,Nc3,Nf6,Bg5,e6,Nxe4,Be7,Bxf6,Bxf6,c3,O-O,Bd3,d5,Ng3,c5,Nf3,Nc6,Qc2,g6,Bxg6,hxg6,Qxg6+,Bg7,Nh5,Qe7,Ng5,Rf6,Nxf6+,Qxf6,Qe8+,Qf8,Qg6,Qf5,Qe8+,Bf8,O-O,Qxg5,Rae1,cxd4,cxd4,Nxd4,Re3,Nf5,Rh3,Qe7,Qg6+,Qg7,Qe8,Qf7', 'Rh8+,Kg7,Rh7+,Kxh7,Qxf7+', 'https://lichess.org/training/O5Smq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O5tmo', 'Rapid', 'zgrcll', 1635, 'blind-blake', 1724, 'e4,e6,d4,d5,e5,c5,c3,Nc6,f4,Qb6,g3,cxd4,cxd4,Nxd4,Be3,Qxb2,Bxd4', 'Bb4+,Bc3,Bxc3+,Nxc3,Qxc3+', 'https://lichess.org/training/O5tmo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O5V03', 'Classical', 'rogeriolimasilva', 1976, 'Deba0505', 1833, 'c4,e5,g3,Nf6,Bg2,c5,d3,d6,Nf3,Nc6,Nc3,Be7,O-O,O-O,a3,a6,Rb1,Be6,b4,Rb8,bxc5,dxc5,Ng5,Bf5,Nge4,Nxe4,Nxe4,Qd7,Be3,Nd4,f4,f6,fxe5,fxe5,Nc3,Bg4,Rxf8+,Rxf8,Bxd4', 'Qxd4+,Kh1,Qxc3', 'https://lichess.org/training/O5V03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O5W7M', 'Blitz', 'sve2ni', 1741, 'Tchristos', 1796, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,d3,Nf6,h3,Bh5,Re1,O-O,Nbd2,Re8,Nf1,a6,Ng3,Bg6,Be3,Nh5,Bxc5,dxc5,Qd2,Nxg3,fxg3,b5,Bd5,Qd6,Rf1,Rad8,Bxc6,Qxc6,Qe3,c4,dxc4,Qxc4,Rae1,Qxa2,Nh4,Qxb2,Nxg6,fxg6,Rd1,Qa3,Qf3,Qc5+,Kh2,Rxd1', 'Qf7+,Kh8,Qxe8+,Qf8,Rxf8#', 'https://lichess.org/training/O5W7M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O5wsT', 'Rapid', 'MrScribbler', 2036, 'Morozmoroz', 2072, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,h3,e6,Bf4,Bd6,Qd2,Ne4,Qe3,Qc7,Bxd6,Nxd6,Nf3,b5,O-O,Nc4,Qc1,O-O,Re1,a5,Nbd2,Ba6,Nxc4,bxc4,Bc2,h6,g4,Bc8,g5,h5,Ne5,Nxe5,dxe5,g6,Qf4,Bb7,Re2,Qc6,f3,a4,Rf1,Rab8,Kh2,Ba6,Rff2,Rxb2,Bxa4,Rxe2,Bxc6,Rxf2+,Kg3,Rxa2,Qd4,Rb8,Qa7,Rbb2,Be8,Rb7,Qa8,Ra3', 'Bc6+,Kg7,Bxb7', 'https://lichess.org/training/O5wsT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o62CT', 'Classical', 'HelloJeep', 2043, 'Chesscar0818', 1894, 'd4,f5,e4,Nf6,e5,Nd5,Bd3,e6,Nh3,Nc6,c3,Be7,Qh5+,g6,Qf3,d6,exd6,cxd6,Bh6,Bf6,O-O,Bd7,Re1,Kf7,Nf4,Nxf4,Qxf4,e5,dxe5,Nxe5,Bc2,Qb6,Bb3+,Be6,Bxe6+,Kxe6,Nd2,Kf7,Nc4,Qc5,Ne3,Nd3,Qa4,Nxe1,Rxe1,Rhe8,Qb3+,Re6', 'Qxb7+,Be7,Qxa8', 'https://lichess.org/training/o62CT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O62n1', 'Rapid', 'VLADISCHWERIN', 1837, 'magda_puol', 1656, 'Nc3,d6,e4,Nf6,d4,g6,Bg5,Bg7,Bc4,Nc6,Nge2,O-O,f3,e5,Nd5,Be6,Ne3,exd4,Nxd4,Nxd4,Qxd4,h6,Bxe6,hxg5,Bb3,Ng4,Qd2,Nxe3,Qxe3,Bxb2,Rb1,Bg7,O-O,c5,Rbd1,Bd4,Rxd4,cxd4,Qxd4,Qb6,c3,Qxd4+,cxd4,Rfc8,e5,dxe5,dxe5,Rc5,e6,fxe6,Bxe6+,Kg7,Rd1,Re8,Rd7+,Kf6,Bb3,Re2', 'Rf7+,Ke5,Re7+,Kd4,Rxe2', 'https://lichess.org/training/O62n1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o64aI', 'Rapid', 'playfulexistence', 1791, 'kono3345', 1653, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Be7,O-O,d5,Ne5,O-O,b3,Nbd7,cxd5,exd5,Bb2,Nxe5,dxe5,Ne4,Nc3,Nxc3,Bxc3,c5,Re1,Qd7,Qd3,d4,Bxb7,Qxb7,Bd2,Qd5,e3,Qxe5,exd4,Qxd4', 'Qxd4,cxd4,Rxe7', 'https://lichess.org/training/o64aI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o66aB', 'Rapid', 'Hoort56', 1775, 'Super_future_gm', 1865, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,d5,e5,Qe7,O-O,Ng4,f4,Bc5+,Kh1,Qh4,h3,Nf2+,Rxf2,Qxf2,Ne2,O-O,c3,f6,exf6,Rxf6,Nd4,Rh6,f5,Rf6,Bg5,Rf8,f6,gxf6,Bxh7+,Kg7,Qh5,fxg5,Qg6+,Kh8,Qh6,Qf6', 'Bg6+,Kg8,Qh7#', 'https://lichess.org/training/o66aB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o6FcZ', 'Blitz', 'Artaban111', 1685, 'barnstormsky', 1874, 'e4,g6,d4,Bg7,Nc3,d6,Be3,Nf6,Qd2,Ng4,Bg5,h6,Bh4,O-O,f3,Nf6,O-O-O,c6,Bxf6,exf6,h4,f5,h5,g5,exf5,Bxf5,Bd3,Bxd3,Qxd3,d5,g4,Qf6,Nge2,Na6,a3,Nc7,Ng3', 'Qf4+,Kb1,Qxg3,Ne2,Qd6', 'https://lichess.org/training/o6FcZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O6G1u', 'Rapid', 'aliaboomar5', 1784, 'TheViperMan', 1882, 'e4,c5,Bc4,a6,a3,e6,Nf3,b5,Ba2,c4,d3,d5,exd5,exd5,O-O,Be7,Re1,Nf6,dxc4,bxc4,b3,cxb3,Bxb3,O-O,Nc3,a5,Nxd5,Nxd5,Bxd5,Ra7,Be3,Rd7,c4,Bf6,Rc1,Ba6,Bc5,Re8,Qc2,Rxe1+,Nxe1,Qe8,Ba7,Bg5,Rb1,Rxa7,Qf5,h6,h4,Bxh4,Qf4,Bg5,Qd4,Rd7,Qb6,Rd8,Qxa5,Bc8,Nf3,Bf5,Re1,Qd7,Nxg5,hxg5,Re5,Re8,Bxf7+,Qxf7,Rxf5,Re1+,Kh2,Qh5+,Kg3,Qh4+,Kf3,Qe4+,Kg3,Rd1,Rxg5,Rd3+,f3,Qe7,Rg4,Qd6+,Kh3,Nc6,Qg5,Qd7,Kh4,Rd4,Rxd4,Qxd4+,Qg4,Qf2+,g3,Ne5', 'Qe6+,Nf7,Qe8+,Kh7,Qxf7', 'https://lichess.org/training/O6G1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o6hQg', 'Blitz', 'IM www68', 2560, 'NM PoppingCheckmates', 2602, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,a3,Be7,Ba2,O-O,O-O,Nbd7,f4,b5,f5,e5,Nde2,Bb7,Ng3,Nb6,Bg5,h6,Bxf6,Bxf6,Nh5,Rc8,Rf3,Nc4,Bxc4,Rxc4,Rd3,Be7,Qg4,Bg5,Rad1,Qb6+,Kh1,d5,Nxd5,Bxd5,Rxd5,Qe3,h4', 'Rxe4,Qxe4,Qxe4', 'https://lichess.org/training/o6hQg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o6Iog', 'Rapid', 'Sussa', 1724, 'daluwr1', 1699, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,h3,O-O,Be3,d5,exd5,Nxd5,Qd2,Bb4,c3,Be7,Bg5,Be6,Bxe7,Ncxe7,Nxe5,Qd6,d4,Ng6,Nxg6,fxg6,O-O,Kh8,Na3,a6,Nc2,Rae8,Rae1,Nf4,Bxe6,Rxe6,Rxe6,Qxe6,Re1,Qd5,f3,Qg5,Re5', 'Nxh3+,Kh2,Qxd2', 'https://lichess.org/training/o6Iog');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O6JBk', 'Rapid', 'Bikovic', 1650, 'samdepp74', 1649, 'e4,e5,Bc4,Nc6,d3,h6,a3,Nf6,b4,b6,b5,Nd4,c3,Ne6,Bxe6,fxe6,Nf3,d6,O-O,Be7,Nh4,O-O,Ng6,Re8,Qf3,Bb7,Qh3,Qd7,Bxh6,gxh6,Qxh6,Kf7,Nd2,Rg8,Nh4,d5,Ndf3,dxe4', 'Nxe5+,Ke8,Nxd7', 'https://lichess.org/training/O6JBk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O6kFo', 'Blitz', 'spookifier', 1807, 'KingLommel', 1917, 'e4,e6,d4,d5,Nf3,dxe4,Ng1,b6,c4,Bb7,Nc3,f5,Bf4,Bd6,Qd2,Nf6,f3,exf3,Nxf3,O-O,Bd3,g6,O-O,Bxf4,Qxf4,Nbd7,Rae1,Re8,Re3,a6,Rfe1,Nf8,Ne5,Kg7,Rh3,N6d7,Ne4,Nxe5,Qxe5+,Kf7,Qh8,Re7,Rxh7+,Nxh7,Qxh7+,Ke8', 'Nf6+,Kf8,Qg8#', 'https://lichess.org/training/O6kFo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O6kj8', 'Blitz', 'Jalbert_Vilan', 2095, 'thombolo', 1711, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,a6,Ba4,Nge7,Re1,O-O,c3,b6,d4,exd4,cxd4,b5,Bc2,Ng6,a3,Bb7,Nc3,Be7,Nd5,d6,Nf4,Rc8,Nxg6,fxg6,e5,dxe5,Nxe5,Nxe5,Rxe5,Bd6,Bb3+,Kh8,Re3,Qh4,g3,Qh3,Qf1,Qg4,Be6,Qxd4,Bxc8,Rxc8,Rd3,Qe4,f3,Bc5+,Kg2,Qc4,Bf4,g5,Rc1,Qf7,Bxg5,Bb6,Qd1,h6,Rd8+,Rxd8,Qxd8+,Kh7,Qd3+,g6,Bf4,c6,Be3,c5,Bxc5,Bxc5,Rxc5,h5,Qd6', 'Qxf3+,Kh3,Qg4#', 'https://lichess.org/training/O6kj8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o6kLB', 'Rapid', 'TraderRebate', 1825, 'Nem0fly', 1884, 'e4,c5,f4,d6,f5,Nf6,Nf3,e6,Nc3,exf5,exf5,Bxf5,Bc4,Be7,O-O,O-O,Ng5,Bg4,Qe1,h6,Nxf7,Rxf7,Bxf7+,Kxf7,Ne4,Nc6,Qg3,Be6,d3,a6,Be3,b5,c3,Qd7,Rf3,Kg8,Nxf6+,Bxf6,Rxf6,Qe7,Rxh6,Bd5,Qg6', 'Qxe3+,Kh1,Qxh6', 'https://lichess.org/training/o6kLB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O6qUt', 'Rapid', 'nivo1', 1794, 'Viresh2013', 1888, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,Bg4,d4,Nc6,O-O,Qd7,Nc3,Nb6,Bb5,a6,Be2,O-O-O,Be3,Bxf3,Bxf3,Nxd4,b4,Nxf3+,Qxf3,Nd5,Nxd5,Qxd5,Qe2,e6,Rfd1,Qc6,Rxd8+,Kxd8,Rd1+,Kc8,a3,Bd6,Bg5,h6,Bh4,g5,Bg3,Bxg3,hxg3,f5,Qe3,Kb8,Qe5,Rh7,Qe3,b6,Re1,Re7,Qd3,Ka7,c4,Rd7,Qc3,Qd6,c5,bxc5,bxc5,Qd5,Rb1,Qd3,Qb4,Qb5,Qxb5,axb5,Rxb5,Rd5,Kf1,Ka6,a4,c6,Rb6+,Ka5,Rxc6,Kxa4,Rxe6,Rxc5,Rxh6,g4,Rh5,Kb4,Ke2,Kc4,Ke3', 'f4+,Kxf4,Rxh5', 'https://lichess.org/training/O6qUt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O6rtX', 'Blitz', 'tataJuli', 1897, 'CM HrvojeZagreb', 2345, 'e4,e6,d3,d5,exd5,exd5,g3,Bd6,Nf3,c6,Bg2,Ne7,Nbd2,Bg4,O-O,Qd7,Re1,O-O,c3,Na6,Qc2,Bh3,Ne5,Bxe5,Rxe5,Bxg2,Kxg2,f6,Rh5,Qg4,Rh4,Qg6,Nf3,Nc5,Ne1,Nf5,Rf4,Rfe8,Bd2,Re2,b4,Ne6,Qd1,Nxf4+,Bxf4,Nh4+,Kf1,Rxe1+,Qxe1,Qxd3+,Qe2,Qxc3,Re1,Ng6', 'Qe6+,Kh8,Qe8+,Nf8,Qxa8', 'https://lichess.org/training/O6rtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O6TKD', 'Blitz', 'pallino', 1791, 'sergior2016ago12', 1901, 'e4,e5,f4,Nc6,Nf3,exf4,Bc4,d6,O-O,Be7,d4,Nf6,Qe2,O-O,Bxf4,Bg4,Nc3,Bxf3,Qxf3,Nxd4,Qh3,Nxc2,Rac1,Nd4,Bd3,Ne6,Be3,h6,Bxh6,gxh6,Qxh6,Nh7,e5,Neg5,h4,f5,exf6,Rxf6,Rxf6,Bxf6,hxg5,Bd4+,Kh1,Qe7,g6,Ng5,Nd5,Qg7,Qxg5', 'Qh8+,Qh6,Qxh6#', 'https://lichess.org/training/O6TKD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O6Upi', 'Rapid', 'MaterialWorld', 1762, 'Less_Grossman', 1674, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Be2,Nf6,O-O,Bd6,Ne5,Be6,Bg5,h6,Bh4,g5,Bg3,Ne4,Bh5,Qf6,Nc3,Nd7,Nxe4,dxe4,Qe2,O-O-O,Qxe4,Bf5,Qd5,Be6,Qf3,Qxf3,Nxf3,Bxg3,fxg3,f5,Ne5,Nxe5,dxe5,Rd2,Rac1,Rhd8,Bg6,Re2,Bxf5,Bxf5,Rxf5,Rdd2,Kf1,Rxg2,e6,Rxh2', 'Rf8+,Rd8,e7', 'https://lichess.org/training/O6Upi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o6ZLz', 'Blitz', 'Monolingualpolyglot', 1715, 'carloscamchang', 1726, 'Nf3,c5,c4,Nf6,Nc3,g6,d4,cxd4,Nxd4,Nc6,e3,Nxd4,exd4,Bg7,Be3,O-O,Be2,d6,O-O,a6,Qc2,Qc7,Ne4,Bf5,Nxf6+,Bxf6,Bd3,Be6,d5,Bd7,Rae1,Rfe8,b3,Rac8,f4,Qa5,f5,b5,fxg6,hxg6,Bxg6,fxg6,Qxg6+,Kh8,Rxf6,Qxe1+,Rf1,Qxe3+,Kh1,Rg8', 'Qh5+,Kg7,Rf7#', 'https://lichess.org/training/o6ZLz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o70AX', 'Blitz', 'PoliteMachine', 2222, 'Christian_Chessmood', 2299, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,e3,g6,Nc3,Bg7,Bc4,axb5,Bxb5,Ba6,Bxa6,Rxa6,Nf3,d6,O-O,O-O,Qd3,Qb6,h3,Nbd7,Rb1,Qa7,Bd2,Nb6,b3,Qa8,e4,Nfd7,Nb5,Rxa2,Bg5,Nf6,Rfe1,Nbd7,e5,dxe5,Nxe5,Nxe5,Rxe5,Ra1,Rxe7,Rxb1+,Qxb1,Qxd5,Be3,Rb8,Qf1,Qxb3,Nd6,Nd5,Rxf7,Nxe3,fxe3,Qxe3+,Kh1,Ra8,Rxg7+,Kxg7,Qf7+,Kh6,Qf6,Kh5', 'g4+,Kh6,Nf5#', 'https://lichess.org/training/o70AX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O71NA', 'Rapid', 'Alrefaai', 1712, 'Senack', 1676, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,e6,Bf4,Nf6,Qe2,Qxd4,c3,Qd5,Nxf6+,gxf6,Bxf5,Qxf5,Nh3,e5,O-O-O,Nd7,g4,Qe6,Bg3,Qxa2,f4,O-O-O,fxe5,Bh6+,g5,fxg5,Qg4,Qa1+,Kc2,Qa2,Rhf1,Rhf8,Nxg5,Rg8,Rxd7,Rxd7,Rxf7,Qxf7,e6,Qg6+,Kb3,Qxg5', 'exd7+,Kd8,Bh4', 'https://lichess.org/training/O71NA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O74Om', 'Blitz', 'kamakawachess', 1703, 'AMARISKYII', 1508, 'd4,e6,Nf3,d5,Bg5,Be7,Bf4,c6,c3,Nf6,Nbd2,O-O,Qc2,c5,e3,Qb6,Be2,Nc6,O-O,cxd4,Nxd4,Nxd4,exd4,Bd7,Rab1,Rac8,a3,Qxd4,Bg3,Qb6,Kh1,g6,f3,e5,Bxe5,Bf5,Bd3,Bxd3,Qxd3,Rfe8,Bd4,Bc5,b4,Bxd4,cxd4,Qc6,Nb3,Qc2,Qb5,Re2,Rfc1', 'Qxc1+,Rxc1,Rxc1+,Nxc1,Re1+,Qf1,Rxf1#', 'https://lichess.org/training/O74Om');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o76pk', 'Blitz', 'Dinei', 1716, 'SonicBoom', 1781, 'e4,e5,Bc4,Be7,d3,Nc6,a3,Nf6,Nc3,O-O,Bd2,d6,Nge2,Be6,Nd5,Nd7,O-O,Kh8,f4,Nb6,Ba2,exf4,Nexf4,Nxd5,Nxd5,Bd7,c3,f5,exf5,Bxf5,d4,Rc8,Qh5,Bg6,Rxf8+,Bxf8,Qg4,Be7,Re1,Rb8,Qe6,Bg5,Bxg5,Qxg5,Nxc7,Rf8,Bd5,Bf7,Qe4,Bxd5,Qxd5,Qd2,Qe4', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/o76pk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O79mz', 'Rapid', 'Ignacykox', 1620, 'FLICK_ME_HARDER', 1617, 'd4,e5,c4,exd4,Nf3,Qf6,Bg5,Qg6,Qxd4,Nc6,Qe3+,Be7,Bxe7,Ngxe7,Nc3,O-O,g3,Nb4,Nd4,Nf5,Nxf5,Qxf5,Rc1,Nc2+,Rxc2,Qxc2,Bg2,c6,O-O,Qxb2,Rb1,Qa3,Rb3,Qa6,c5,d5,Rb4,Be6', 'Ra4,Qxa4,Nxa4', 'https://lichess.org/training/O79mz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O7ayy', 'Blitz', 'Moath-white', 1860, 'BennyMphirime', 1869, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,Bb6,O-O,Ne5,Bb3,O-O,f4,Bxd4,Bxd4,N7c6,fxe5,Qg6,Nd2,d6,exd6,Qxd6,Nc4,Qg6,Qd3,Be6,Ne5,Nxe5,Bxe5,Rad8,Qe2,Bxb3,axb3,Rfe8,Bxc7,Rxe4,Qc2,Rde8,Rxa7,Qc6,Bg3,g6,Qf2,Kh8,Qxf7,Re2,Qf6+,Qxf6,Rxf6,Rxb2,Rxb7,Kg8,Rff7,Ree2,Rg7+,Kf8,Rbf7+,Ke8,Rb7', 'Rb1+,Be1,Rbxe1#', 'https://lichess.org/training/O7ayy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O7bDL', 'Rapid', 'mayisprosu99', 1742, 'gagarin1917', 1709, 'd4,Nf6,Nf3,e6,e4,d6,Bc4,d5,exd5,exd5,Bb3,Bd6,O-O,O-O,Bg5,c6,Nbd2,Bg4,c4,h6,Bh4,Be7,Qc2,Ne4,Bxe7,Qxe7,Ne5,Nxd2,Qxd2,Be6,Rfe1,Nd7,cxd5,cxd5,Qf4,Nxe5,Rxe5,Rad8,Rc1,Qb4,h3,a5,Re2,a4,Bd1,Rc8,Bc2,b5,Kf1,Qxb2', 'Bh7+,Kxh7,Rxb2,Rxc1+,Qxc1', 'https://lichess.org/training/O7bDL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O7hc1', 'Classical', 'ram70', 1766, 'PerlHacker', 1847, 'd4,g6,Bf4,Bg7,Nc3,d6,Nf3,Nd7,e3,e5,dxe5,dxe5,Bg3,f5,Qd5,Qe7,O-O-O,c6,Qd6,Qxd6,Rxd6,Ke7,Rd2,e4,Nd4,Nh6,Be2,Nf7,Bh4+,Bf6,Bg3,Nde5,h4,Be6,Nxe6,Kxe6,h5,Rhd8,hxg6,hxg6,Rh7,Rxd2,Kxd2,Rd8+,Kc1,Rd7,Bxe5,Nxe5,Rh6,b5,g4,b4,gxf5+,gxf5,Na4,Rg7,Nc5+,Ke7,Nb3,Rg1+,Kd2,Rb1,Rh7+,Nf7,Nd4,Bxd4,exd4,Kf6,Bc4,Nd6,Rh6+,Ke7,Rh7+,Kd8,Rh8+,Kc7,Rh7+,Kb6,Bb3,a5,Rh6,Kc7,Rh7+,Kb8,Rh6,Nb5,d5,cxd5', 'Rb6+,Kc7,Rxb5', 'https://lichess.org/training/O7hc1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o7irN', 'Rapid', 'Kartoon13', 1661, 'ALKUDIES', 1678, 'e4,e5,Nf3,d6,Bc4,Bg4,d4,h6,Nc3,Be7,dxe5,dxe5,Qxd8+,Bxd8,Bxf7+,Kxf7,Nxe5+,Ke8,Nxg4,Nc6,Bf4,Bf6,e5,Be7,Rd1,Bb4,e6,Nge7,O-O,Bxc3,bxc3,Rc8,Rd7,Ng6,Rxg7,Nxf4', 'Nf6+,Kf8,Rf7#', 'https://lichess.org/training/o7irN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O7MT5', 'Classical', 'spieldeslebens', 1780, 'AFUchess', 1856, 'Nc3,d5,d4,Nf6,Bg5,Nc6,g3,Bf5,Bg2,Ne4,Nxe4,Bxe4,Bxe4,dxe4,d5,Nb4,c4,c6,Qb3,h6,Qxb4,hxg5,Qxb7,cxd5', 'Qc6+,Qd7,Qxa8+', 'https://lichess.org/training/O7MT5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o7NMC', 'Rapid', 'Migueliho', 1656, 'cgman', 1658, 'e4,d5,exd5,Qxd5,d3,e6,a3,Nf6,h3,b6,Be2,Qxg2', 'Bf3,Qg6,Bxa8', 'https://lichess.org/training/o7NMC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O7nYM', 'Rapid', 'Henk', 1698, 'Mrkepler', 1663, 'e4,c5,b4,cxb4,a3,e6,axb4,Bxb4,c3,Be7,d4,d5,exd5,Qxd5,Nf3,Nf6,c4,Qd8,Bd3,O-O,O-O,Nc6,Be3,a6,h3,Nb4,Be2,a5,Nc3,Bd7,Qd2,b6,Ne5,Bd6,Bg5,Qc7,Bxf6,gxf6,Ng4,Bf4,Nxf6+,Kh8,Qd1,Bc6,d5,exd5,cxd5,Bd7,Qd4,Be5,Qh4,Bxf6,Qxf6+,Kg8,Ne4,Nxd5,Qg5+,Kh8,Qxd5,Rg8,Qd4+,Rg7,Rac1,Qd8,Ng5,Qxg5,Bf3,Rd8,Qxb6,Bxh3,Rc5,Qe7,Rc7,Qf8,Kh2,Be6,Re1,Rd6,Qxa5,Qd8,Rec1,Rg5,Qc3+,Kg8,Be4,Rg7,Qf3,Qh4+,Kg1,Qd8,Bf5,Bxf5,Qxf5,Rd1+,Rxd1', 'Qxd1+,Kh2,Qd6+', 'https://lichess.org/training/O7nYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O7OOY', 'Classical', 'ACADIENCOLD', 1739, 'flenerf', 1830, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Nf6,d3,Be7,O-O,Bd7,Bc4,h6,c3,Na5,Bb3,c5,Be3,b6,Nbd2,Qc8,Nc4,Nxc4,Bxc4,b5,Bb3,a5,Qe2,a4,Bc2,Qb7,b3,a3,b4,c4,Nd2,Be6,dxc4,bxc4,f3,Rc8,Ba4+,Nd7,f4,O-O', 'f5,Nf6,fxe6', 'https://lichess.org/training/O7OOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O7PMt', 'Rapid', 'austrianlogic', 1785, 'asa64', 1731, 'e4,Nc6,Nf3,e5,d4,d6,Bc4,exd4,Nxd4,Bd7,Qh5,Ne5,Bb3,Nf6,Qe2,c5,Nf5,b5,f4,Ng6,Bd5,Nxd5,exd5+,Be7,Nxd6+,Kf8,Ne4,Qa5+,Bd2,b4,O-O,Bb5,Qg4,Bxf1,Kxf1,Qa6+,Kg1,c4,c3,Re8,cxb4,Bd8,Nc5,Bb6,Nc3,h5,Qf5,Ne7,Qd7,Rd8', 'Qxd8+,Bxd8,Nxa6', 'https://lichess.org/training/O7PMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O7Q44', 'Blitz', 'erbin14', 1913, 'mintaka39', 1915, 'e4,e6,d4,d5,exd5,exd5,Nc3,Bb4,Bd3,Nf6,Bd2,Bg4,f3,Bh5,Nge2,Qe7,O-O,c6,a3,Bxc3,Nxc3,O-O,Re1,Qd6,Re5,Nbd7,Re1,Rae8,Ne2,c5,dxc5,Qxc5+,Kh1,Ne5,Bb4,Qf2,Bxf8,Bxf3,Rg1,Neg4,Bd6,Ne3,Qe1', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/O7Q44');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O7tpG', 'Rapid', 'ibrahimoase', 1888, 'KaramyschevPavel', 1827, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Nc3,Be7,d4,Na5,dxe5,Nxe4,Qd5,Nxc4,Nxe4,Nb6,Qd3,d6,exd6,cxd6,Re1,O-O,Ng3,Re8,Nf5,Bxf5,Qxf5,Bf6,Rxe8+,Qxe8,Bxh6,Bxb2,Rb1,g6,Qg5,Bh8,h4,Qe6,h5,Bf6,Qg3,Kh7,Bg5,gxh5,Re1,Qf5,Bxf6,Qxf6,Re4,Rg8,Qh3,Qg6,Rh4,Kg7,Rxh5,Kf8,Rg5,Qxc2', 'Qh6+,Ke7,Rxg8', 'https://lichess.org/training/O7tpG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O7Xq1', 'Rapid', 'GiuseppeMascellani', 1668, 'Zvonkan', 1684, 'd4,d5,c4,c6,Nf3,Nf6,e3,Bf5,Nc3,e6,c5,Nbd7,b4,a5,b5,a4,b6,Be7,Nxa4,O-O,Bd3', 'Bxd3,Qxd3,Rxa4', 'https://lichess.org/training/O7Xq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o7xTa', 'Blitz', 'MisterWuppertal', 2141, 'meliniak', 2008, 'd4,f5,Nc3,Nf6,Bg5,d5,Nf3,e6,e3,Nc6,Bd3,Be7,Bxf6,Bxf6,O-O,O-O,Ne2,e5,dxe5,Nxe5,Nxe5,Bxe5,c3,b6,Nd4,Qd6,Nf3,Bf6,Qc2,g6,Rad1,Bb7,c4,d4,Nxd4,Bxd4,exd4,Qxd4,Bxf5,Qf6,Be4,Bxe4,Qxe4,Rae8,Qd5+,Rf7,b3,Re2,Rd2', 'Qxf2+,Rxf2,Re1+,Rf1,Rxf1#', 'https://lichess.org/training/o7xTa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o7XWl', 'Rapid', 'reparador-chess', 1645, 'AkshAlok', 1639, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d3,Bc5,h3,d6,a3,a6,Qe2,b5,Ba2,O-O,b4,Ba7,O-O,Nd4,Nxd4,Bxd4,Bd2,c6,Rab1,Qe8,Nd1,Be6,Bb3,Bxb3,Rxb3,Qe6,Bc3,Ba7,Ne3,Rac8,Rfb1,c5,Nf5,cxb4,Bxb4,Rc7,Bxd6,Rfc8,Bxc7,Rxc7,Kf1,Qc6,Rc1,Qc5,c3,g6,Nxh6+,Kg7,Ng4,Nh5,Ne3,Nf4,Qd2,Qe7,Nd5,Nxd5,exd5,Qf6,Rb2,Rd7,c4,bxc4,dxc4,e4,Qc3', 'Bd4,Qe1,Bxb2', 'https://lichess.org/training/o7XWl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o800s', 'Rapid', 'guido63', 1951, 'silas28', 2018, 'c4,e5,g3,Nf6,Bg2,Nc6,Nc3,Be7,d3,O-O,Nf3,h6,O-O,a6,a3,d6,Bd2,Be6,Rb1,Qc8,Re1,Bh3,Bh1,Re8,b4,Nd4,Nxd4,exd4,Ne4,c6,Bf4,Qd7,c5,dxc5,Nxc5,Bxc5,bxc5,Nd5,Bd2,Rad8,Qb3,Re7,Ba5,Rde8,Bf3,Be6,Qb2,Nf6,Qd2,Bd5,Qf4,Qe6,Bxd5,Nxd5,Qxd4,Qh3,Rb2,Nf6,Bc3,Re5,f3,Rh5,Qf2,Nd5,Bd4,Qe6,Rxb7,Qg6,f4,Nf6,Bxf6,Qxf6,e4,Qc3,Qe2,Rxc5,a4,Qd4+,Kg2,Qxa4,Rb2,Rb5,Reb1,Reb8,Qc2', 'Qxc2+,Rxc2,Rxb1', 'https://lichess.org/training/o800s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o82ux', 'Classical', 'dheitkam', 1876, 'bloodbound', 1814, 'c4,c5,Nc3,e6,d4,Nf6,Nf3,b6,e3,Bb7,Be2,d5,cxd5,Nxd5,Bb5+,Nd7,Ne5,Nf6,O-O,a6,Bc6,Bxc6,Nxc6,Qc7,Ne5,Nxe5,dxe5,Qxe5,h3,Bd6', 'f4,Qh5,Qxd6', 'https://lichess.org/training/o82ux');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o85Bs', 'Blitz', 'tarallo', 1695, 'Kasparov974', 1695, 'd4,d5,e3,Nf6,c4,dxc4,Bxc4,Bf5,Qb3,Be6,Bxe6,fxe6,Qxe6,Nbd7,Nc3,c6,Ne4,Nxe4,Qxe4,Qa5+,Bd2,Qb5,b3,O-O-O,Nf3,Nf6,Qf5+,Kb8,Qxb5,cxb5,Rd1,Ne4,O-O,e6,Rb1,h5,Ba5,Rc8,Rbc1,Re8,Rc7,h4,h3,g5,Ne5,Bd6,Nd7+,Ka8,Rcc1,g4,hxg4,h3,f3', 'h2+,Kh1,Ng3#', 'https://lichess.org/training/o85Bs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O86J7', 'Rapid', 'marcelodce', 2052, 'Greg20052005', 2051, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bg5,O-O,e3,b6,cxd5,exd5,Rc1,Ba6,Bxa6,Nxa6,Ne5,c5,Nc6,Qc7,Nxe7+,Qxe7,Nxd5,Qe6,Nf4,Qc6,O-O,Nd5,dxc5,Nxf4,Bxf4,bxc5,Qh5,Rad8,Rfd1,Nb4,Rxd8,Rxd8,Rd1,Nd3,Qf5,Qa4,Rxd3', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/O86J7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O899L', 'Rapid', 'kamlo89', 1664, 'Vabalas', 1679, 'd4,d5,c4,Nf6,Nc3,c5,dxc5,e6,cxd5,Nxd5,Qa4+,Bd7,Qb3,Nxc3,bxc3,Qc7,Rb1,Bc6,Ba3,Nd7,Nf3,Bxc5,e3,Bxa3,Qxa3,Rc8,Be2,Bd5,O-O,Qxc3,Qxa7,O-O,Bb5,Qc5,Qxc5,Nxc5,Ne5,f6,Nd7,Nxd7,Bxd7,Bxa2,Bxe6+,Bxe6,Rxb7,Bc4,Rd1,Be2,Re1,Rb8,Ra7,Rfc8,h3,Bc4,Rd1,Rd8,Rc1,Rbc8,Rb1,Bd5,Kh2,h5,Rb5,g6,f3,Bc4,Rb6,Rf8,Re7,Bf1,Rbb7,Rfd8,Rg7+,Kf8,Rbf7+,Ke8,Rxf6,Rd7,Rgxg6,Rf7', 'Rg8+,Ke7,Rxf7+,Kxf7,Rxc8', 'https://lichess.org/training/O899L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O8ai0', 'Blitz', 'WCM NicolleM_13', 2151, 'Ceasar1997_Roma', 2011, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,Nxd4,Nxd4,Qxd4,d6,Nc3,Be6,Bb3,Bxb3,axb3,Nf6,Bf4,Be7,f3,Qd7,Rxa7,Rxa7,Qxa7,b6,Qa8+,Qd8,Qxd8+,Bxd8,O-O,O-O,Nd5,Nxd5,exd5,Bf6,Rb1,Ra8,Kf2,Ra2,c3,Ra5,c4,b5,Ke3,bxc4,bxc4,Rb5,b3,Kf8,g4,Ra5,Bg3,Ra2,h4,Bc3,f4,Bb4,g5,Bc5+,Kf3,hxg5,hxg5,Rd2,b4,Rd3+,Kg4,Bb6,Bh4,Rd4,Rc1,Rd2,c5,dxc5,bxc5,Ba5,d6,cxd6,cxd6,Rxd6,Rc8+,Rd8,Rc5,Bb6,Rc6,Ba5,Bf2,Bd2,Bc5+,Kg8,g6,fxg6,Rxg6,Rd5,Ba7,Bc3,f5,Bf6,Kf4,Ra5,Be3,Ra4+,Kf3,Ra3,Rg4,Ra1,Re4,Rf1+,Kg4,Re1,Kh5,Rh1+', 'Kg6,Kf8,Bc5+', 'https://lichess.org/training/O8ai0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o8bU7', 'Rapid', 'Aighearach', 2059, 'niveKKevin', 2219, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Be7,e3,O-O,Bd3,dxc4,Bxc4,a6,a4,c5,O-O,cxd4,Nxd4,Qc7,Qb3,e5,Nde2,Nc6,Nd5,Nxd5,Bxd5,Nb4,Bc4,Bf5,Ng3,Bc2,Qc3,b5', 'Bxf7+,Rxf7,Qxc7', 'https://lichess.org/training/o8bU7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o8Ewz', 'Rapid', 'Pasili', 2455, 'ChessKimon', 2407, 'b3,c6,Bb2,Qa5,Nf3,d6,g3,e5,e4,Nf6,Bg2,Nxe4,O-O,Nf6,Re1,Be7,Nc3,O-O,d4,exd4,Nxd4,Re8,Qd3,Na6,a3,Nc5,Qd2,Qc7,b4,Ne6,Nf5,Bf8,Rad1,d5,b5,Bd7,bxc6,bxc6,Ne2,Nc5,Qg5,Bxf5,Qxf5,Nce4,Nf4,Rab8,Bxe4,Rxb2,Bd3,Rxe1+,Rxe1,Qd7,Qg5,Bxa3,Ra1,Qe7,Nh5,Nxh5,Qxh5,g6,Qg4,Kg7', 'Qd4+,Qf6,Qxf6+,Kxf6,Rxa3', 'https://lichess.org/training/o8Ewz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O8gCN', 'Blitz', 'WIM amaa18', 2441, 'farshad-sam', 2034, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,Nxc3,Qf3,e6,dxc3,Bd6,Ne2,O-O,Be3,Nd7,Bb3,Ne5,Qh3,Ng6,O-O-O,e5,Qf3,Qh4,h3', 'e4,Qg3,Bxg3', 'https://lichess.org/training/O8gCN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o8hAw', 'Rapid', 'Caaspoabsp', 1797, 'kachelo', 1787, 'Nf3,d6,d4,g6,Nc3,Bg7,e3,Nf6,Bc4,O-O,O-O,a5,a4,b6,Qe2,c6,e4,d5,exd5,cxd5,Bb5,Be6,Bf4,Nbd7,Rad1,Rc8,Ne5,Nxe5,Bxe5,h5,h3,Bf5,Qd2,Kh7,Ba6,Bh6,Qe2,Rc6,Bb7,Re6,Qb5,Nd7,Bxd5,Nxe5,Bxe6,Bxe6,dxe5,Qc7,Rd4,Bg7,Re1,Bf5,Re2,Re8,Nd5,Qc5,Qxc5,bxc5,Rc4,e6,Nc7,Rd8,Rxc5,Rd1+,Kh2,f6,exf6,Bxf6,c3,Bd3,Rxe6,Bc2,Rxa5,Bg5,b4,Bb3,Re8,Bf4+,g3,Bxc7,Re7+,Kh6,Rd7', 'Rxd7', 'https://lichess.org/training/o8hAw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O8iY7', 'Rapid', 'mufasa', 1857, 'Andres_Felipe', 1889, 'd4,d5,Nf3,Nf6,c4,e6,e3,Bb4+,Nc3,Ne4,Bd2,Nxd2,Qxd2,O-O,a3,Be7,Ne5,Nd7,Nxd7,Bxd7,c5,a5,Bd3,b6,cxb6,cxb6,O-O,Rc8,Rac1,Bf6,Bb5,Qe7,Bxd7,Qxd7,Rc2,Rc4,Rfc1,Rfc8,b3,R4c7,a4,Be7,h3,Bb4,Qd3,Ba3,Nb5', 'Bxc1,Nxc7,Rxc7,Rxc7,Qxc7', 'https://lichess.org/training/O8iY7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o8jFc', 'Rapid', 'lotus111', 1766, 'krzysiekstasilas', 1789, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,e5,c4,Qe4,d3,Qf5,Nh4,Bxe2,Qxe2,Bb4+,Kf1,Qe6,Qc2,Nc6,a3,Bc5,b4,Nd4,Qa4+,c6,bxc5,Rd8,Be3,Nf5,Nxf5,Qxf5,d4,Qd3+,Kg1,exd4,Rd1,Qe4,Bd2,O-O,h3,Qe2,Qc2,d3,Qc1,Qe6,Kh2,Qe5+,f4,Qxc5,Rhe1,Qf2,Be3,Qh4,Qc3,Rfe8,Rxd3', 'Rxd3,Qxd3,Qxe1', 'https://lichess.org/training/o8jFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O8LB9', 'Classical', 'darkranger43', 1898, 'raptor69', 1834, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,g3,Nxc3,bxc3,Bg7,Bg2,O-O,Nf3,c5,O-O,Qa5,Bd2,Nc6,e4,Bg4,d5,Ne5,h3,Nxf3+,Bxf3,Bxh3,Re1,Bxc3,Bxc3,Qxc3,Re3,Qe5,Kh2,Bd7,Be2,Kg7,f4,Qd6,e5,Qc7,d6,exd6,exd6,Qa5,Re7,Qa4,Qd5,Qc2', 'Qe5+,Kg8,Rxd7', 'https://lichess.org/training/O8LB9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O8mFK', 'Bullet', 'IM iulikjulik86', 2651, 'FM munster1', 2521, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,Nb3,Bb6,Qe2,Ne7,Be3,O-O,Nc3,f5,O-O-O,fxe4,Nxe4,d5,Bc5,Bxc5,Nexc5,Qb6,Qe3,Nf5,Qd2,a5,a4,Nc6,Bb5,Na7,Bd7,Qd6,Bxc8,Rfxc8,Nxb7,Qc7,N7xa5,Nc6,Nxc6,Qxc6,a5,Qa4,Kb1,Nd6,Rhe1,Nc4,Qd4,Rcb8,Rxe6,Rxa5,Re7,Qa2+,Kc1', 'Qa1+,Nxa1,Rxa1#', 'https://lichess.org/training/O8mFK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O8OnU', 'Rapid', 'HosseinDragon', 2368, 'OnTheWaytoFM', 2280, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Ne2,cxd4,Nexd4,Bc5,c3,Qe7,Be3,O-O,h4,f6,exf6,Nxf6,Qc2,Bd7,O-O-O,Rac8,Kb1,Ng4,Nxc6,Rxc6,Ng5,g6,Bxc5,Qxc5,h5,Ne3,Qd3,Nxd1,hxg6,Nf2,gxh7+,Kh8,Qg6,Nxh1', 'Nf7+,Rxf7,Qg8#', 'https://lichess.org/training/O8OnU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o8PqC', 'Rapid', 'Clouzot', 1869, 'JussiVatanen', 1871, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Be2,O-O,O-O,c6,Re1,Bg4,Ne5,Be6,Bg4', 'Nxg4,Bxe7,Qxe7', 'https://lichess.org/training/o8PqC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O8q7h', 'Rapid', 'ABS5', 1916, 'F_Umar_Firmansyah', 1920, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,Bd3,Bd6,O-O,Nge7,Bg5,h6,Bxe7,Nxe7,Ne5,O-O,Nd2,Bf5,Bxf5,Nxf5,c3,Bxe5,dxe5,Re8,Nf3,Nh4,Nxh4,Qxh4,g3,Qg5,f4,Qf5,Rc1,Rad8,Qc2,Qg4,Qf2,b6,Rfd1,c5,Rd3,Qe6,b3,f6,Re1,Qf5,Rde3,d4,cxd4,cxd4,Re4,d3,Qd2,fxe5,Rxe5,Rxe5,Rxe5,Qc8,Re1,Qc2,Rd1,Re8,Qxd3', 'Re1+,Rxe1,Qxd3', 'https://lichess.org/training/O8q7h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O8qI7', 'Rapid', 'derstefan', 1611, 'cnmtl1983', 1614, 'd4,e6,Bf4,d5,e3,c5,Nd2,cxd4,exd4,Bd6,Bg3,Nc6,c3,Nh6,Bb5,a6,Bd3,O-O,h3,e5,dxe5,Bxe5,Bxe5,Nxe5,Ndf3,Re8,Nxe5,Rxe5+,Ne2,Bf5,O-O,Bxd3,Qxd3,Qb6,Rab1,Rae8,Nf4,Rd8,Rfe1,Rxe1+,Rxe1,d4,cxd4,Qxb2,Re2', 'Qc1+,Kh2,Qxf4+', 'https://lichess.org/training/O8qI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O8Rln', 'Rapid', 'PanMech', 1706, 'Ferid_02', 1758, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,Bf5,Qb3,Qb6,e3,Nbd7,Nf3,O-O-O,Rc1,e6,Nb5,Nb8,c5,Qa5+,Rc3,Ne4,Nd6+,Bxd6,cxd6,Nxc3,bxc3,f6,Be2,g5,Bg3,h5,h4,g4,Nd2,Nd7,O-O,Rhe8,Rb1,b5,a4,a6,Rb2,Nb6,Ra2,bxa4,Qb2,Kb7,Nb1,Rd7,Nd2,Rb8,f3,Ka7,fxg4,Bxg4,Bd3,f5,Qc1,Nc8,Kh2,Nxd6,Kg1,Nb5,Bxb8+,Kxb8,Nb3,Qc7,Nc5,Qa7,Nxd7+,Qxd7,Qb1,Qb7,Rxa4,Nxc3,Qxb7+,Kxb7,Rxa6,Be2,Bxe2,Nxe2+,Kf2,Kxa6,Kxe2,Kb5,Kf3,Kc4,Kf4,Kd3,Kg5,Kxe3,Kxh5,Kf4,Kg6,Kg4', 'h5,f4,h6,f3,gxf3+', 'https://lichess.org/training/O8Rln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o96SS', 'Blitz', 'K_A_L_E', 2330, 'gambitiando', 2402, 'e4,c5,Nf3,e6,c3,d5,e5,Nc6,d4,Qb6,Be2,cxd4,cxd4,Nh6,O-O,Nf5,Nc3,Ncxd4,Nxd4,Qxd4,Bb5+,Bd7,Bxd7+,Kxd7,Qb3,Qb6,Qa4+,Qc6,Qg4,h5,Qd1,Be7,Bd2,Ke8,Rc1,Qd7,Qb3,Rc8,Rfd1,Kf8,h3,g6,Nb5,a6,Nc3,Kg7,Bf4,g5,Bh2,g4,Ne2,Rxc1,Rxc1,Rc8,Rd1,Qb5,Qxb5,axb5,Nf4,Rc2,Nxh5+,Kh6,hxg4,Nh4,Bf4+,Kg6,Bc1,Bg5,f4', 'Rxg2+,Kf1,Rxg4,fxg5,Kxh5', 'https://lichess.org/training/o96SS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o99Sh', 'Rapid', 'SKrok', 1796, 'Bwana_Chairman', 1783, 'e4,g6,d4,Bg7,e5,e6,Nf3,Ne7,Bg5,O-O,Nc3,b6,Nb5,Bb7,Nxc7,Qxc7,Bxe7,Re8,Bd6,Qd8,c3,Nc6,Bb5,a6,Ba4,b5,Bc2,Na5,Bd3,Bd5,O-O,Nc4,Qc2,Bxf3,gxf3,Qg5+,Kh1,Qh5,Be4,Rac8,Bc5,Bf8,Bxf8,Rxf8,Qe2,f5,Bb7,Rc7,Bxa6,Nb6,Bxb5,Nd5,f4,Qh6,Qf3,Rb8,c4,Nxf4,Qe3,Kh8,a4,g5,Rg1,Rg8,a5,Rg6,a6', 'Qxh2+,Kxh2,Rh6+,Qh3,Rxh3#', 'https://lichess.org/training/o99Sh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9CDe', 'Rapid', 'kookiemonster', 2122, 'alexcl', 2100, 'e4,c5,Nf3,b6,d4,cxd4,Nxd4,Bb7,Nc3,Nc6,Be3,Nf6,Bc4,Ne5,Bb3,Nxe4,Nd5,e6,Bf4,f6,Bxe5,exd5,Nb5,fxe5,Qh5+,g6,Qxe5+,Qe7,Nd6+,Kd8,Nxb7+,Kc8,Qxh8,Nc5+,Kf1,Nxb3,axb3,Kxb7,Qd4,Qc5,Qxc5,bxc5,g3,Bg7,c3,d4,Rc1,Re8,Kg2,Re2,Rhe1,Rxb2,Re7,Bh6,Rd1,Kc6,cxd4,d6,dxc5,dxc5,Rd3,a5,Rxh7,Bg5,h4,Bf6,Rhd7,Bd4,Rf7,Kb5,Rdf3,Re2,Rb7+,Kc6,Rff7,Re6,Rfc7+,Kd5,Rb5,Re2,Rf7,Rb2,Rf3,a4,bxa4,Rxb5,axb5,c4,g4,c3,Rf8,c2,Rc8', 'Bc5,b6,c1=Q', 'https://lichess.org/training/o9CDe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9CE9', 'Rapid', 'vladkas23', 1810, 'Viravato', 2094, 'e4,d5,e5,Bf5,d4,e6,h3,h6,Nf3,Nd7,Bd3,Ne7,c3,c5,Bb5,a6,Bxd7+,Qxd7,O-O,Nc6,Nh4,Bh7,Qg4,cxd4,cxd4,Rc8,Be3,Ne7,Nc3,Nf5,Nxf5,Bxf5,Qg3,g5,Rac1,Be7,Na4', 'Rxc1,Rxc1,Qxa4,Rc8+,Bd8', 'https://lichess.org/training/o9CE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O9cke', 'Rapid', 'JariIkonen', 1817, 'Nikolai69', 1755, 'c4,e6,e4,Nf6,e5,Ne4,d3,Bb4+,Nd2,Nxd2,Bxd2,Bxd2+,Qxd2,O-O,f4,d5,c5,b6,d4,bxc5,dxc5,Bb7,Nf3,Na6,Rc1,Qe7,Qa5,Nb8,Bb5,Nc6,Bxc6,Bxc6,Nd4,Bd7,O-O,Rfc8,Rf3,Rab8,b4,f6,a3,fxe5,fxe5,Qg5,Re1', 'Qd2,Rfe3,Qxd4', 'https://lichess.org/training/O9cke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O9DH5', 'Rapid', 'GregWolm', 1910, 'rmgelber', 1833, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,Be7,Bf4,b6,e3,c5,dxc5,bxc5,Be2,Nc6,O-O,O-O,Nb5,a6,Nc3,Bb7,cxd5,exd5,Qb3,Na5,Qc2,Rc8,Rfd1,Re8,Rac1,Nh5,Bg3,Nxg3,hxg3,Bf8,Qf5,Re6,Ng5,Rg6,Qxf7+,Kh8,Ne6,Qe7,Qxe7,Bxe7,Nf4,Rh6,Ncxd5,Bg5,b3,Re8,Nc7,Re5,Nxa6,Bxa6,Bxa6,g6,Rd7,Bxf4,exf4', 'Reh5,Rd8+,Kg7,f3,Rh1+,Kf2,Rxc1', 'https://lichess.org/training/O9DH5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9E46', 'Rapid', 'faowwaz', 1762, 'jcorpolo', 1782, 'e4,Nc6,Nf3,e5,Nc3,a6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe5+,Be7,Qxg7,Bf6,Qg3,Ne7,Be3,Rg8,Qf3,Ng6,Bxc5,d6,Ba3,Ne5,Qh5,Bg4,Qxh7', 'Rh8,Qxh8+,Bxh8', 'https://lichess.org/training/o9E46');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9EE9', 'Classical', 'GremedaAbdusalam', 1991, 'gametimer', 1844, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bd3,Nxe4,Bxe4,c5,Nf3,cxd4,Nxd4,Bc5,Be3,e5,Nb3,Bxe3,fxe3', 'Qh4+,g3,Qxe4', 'https://lichess.org/training/o9EE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9FCA', 'Rapid', 'TFP', 1793, 'Grigorios-P', 1647, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,O-O,a6,Bc4,Nf6,Nc3,b5,Nxc6,Bxc6,Bd5,Nxd5,exd5,Bd7,Qf3,e5,dxe6,Bxe6,Re1,Be7,Qg3,g6,Bh6,Bf8,Bxf8,Kxf8,Qf3,Kg7,Rad1,b4,Ne4,d5,Nc5,Qc8,Qe3,Re8,Qe5+,Kg8,Qd4,a5,Re2,Bf5,Rxe8+,Qxe8,Qxd5,Bxc2,Rc1,Rd8,Qg5,Rd1+,Rxd1,Bxd1,h3,Qe1+,Kh2,Qxf2,Nd7,Qf5', 'Qd8+,Kg7,Qf8#', 'https://lichess.org/training/o9FCA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9FWy', 'Rapid', 'Gladiator77', 1884, 'felipeaq1999', 1804, 'b3,e5,Bb2,Nc6,e3,Bb4,Bb5,d6,f4,exf4,Bxg7,Qh4+,g3', 'fxg3,Nf3,g2+', 'https://lichess.org/training/o9FWy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9hQG', 'Rapid', 'ginloki', 2001, 'FloatingSignifier', 1965, 'e4,e6,d4,d5,exd5,exd5,Nf3,c5,c3,Nf6,Bg5,Bg4,Be2,Nbd7,Ne5,Bxe2,Qxe2,Be7,Bxf6,Nxf6,Nd2,c4,O-O,O-O,Rfe1,Bd6,Ndf3,Re8,Qd2,Ne4,Qc2,Qc7,Rad1,b5,a3,a5,Qb1,b4,Qc1,bxa3,bxa3,a4,Ng4,Qe7,Ne3,Bxa3,Qa1,Nf6,Nxd5,Qd6,Nxf6+,gxf6,Rxe8+,Rxe8,Re1,Rb8,Rb1,Rb3,Nd2,Qf4', 'Nxb3,axb3,Qxa3', 'https://lichess.org/training/o9hQG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9JaS', 'Rapid', 'Smoothyoungman', 1699, 'joekeres', 1670, 'e4,c5,Nf3,d6,Bc4,Nc6,c3,Nf6,d3,e6,O-O,Be7,Bb5,Bd7,a4,a6,Bc4,Qc7,Nbd2,O-O,Nb3,Na5,Nxa5,Qxa5,Bd2,Qc7,Re1,b5,axb5,axb5,Rxa8,Rxa8,Bb3,Qc6,Bc2,d5,exd5,Qxd5,Ne5,Bc8,d4,c4,Be4,Nxe4,Qf3,Nxd2', 'Qxf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/o9JaS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O9Jvy', 'Rapid', 'Giperbola', 1943, 'riverrook', 2022, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,e3,O-O,Nf3,b6,Be2,Bb7,O-O,Bxc3,bxc3,d6,Nd2,Nd7,Bf3,Bxf3,Qxf3,e5,Qc6,Rfd8,Qxc7,Nf8,Qc6,Rac8,Qd5,Qe6,Rac1,f5,f4,e4,h3,Rc7,g4,g6,Kh2,Kg7,Qxe6,Nxe6,gxf5,gxf5,Rg1+,Kf6,Rg3,Rg7,Rcg1,Rxg3,Kxg3,Rg8+,Kh2,Rxg1,Kxg1,Nc7,a4,d5,Kf2,dxc4,Nxc4,Nd5,a5,b5,Nd6,Nxc3,a6,b4,Ke1,Ke6,Nc8,Nb5,Kd2,Kd7,Nxa7,Nxa7,Kc2,Kc6,Kb3,Kb5,d5,Kxa6,Kxb4,Kb6,Kc4,Nc8,Kd4,Kc7,Ke5,Nd6,Ke6,h5,h4,Nc4,Kxf5,Nxe3+,Kxe4,Ng2,Kf5,Nxh4+,Kg5,Ng6,f5,Ne7', 'f6,Nxd5,f7', 'https://lichess.org/training/O9Jvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O9K59', 'Blitz', 'meshiman', 1909, 'Greateldone', 1933, 'e4,e5,Nc3,Nf6,d3,d5,f4,d4,Nce2,c5,fxe5,Nfd7,Bf4,Nc6,Nf3,Be7,h4,b6,g4,Bb7,Bg2,Qc7,g5,Ndxe5,Nxe5,Nxe5,Qd2,Bd6,O-O-O,O-O-O,Rdf1,Ng4,Bh3,f5,gxf6,h5,fxg7,Qxg7,Bxd6,Rxd6,Rhg1,Kb8,Nf4,Qg8,Nd5,Bxd5,exd5,Qxd5,Qf4,Ne3,Rg5,Qe6,Kb1,Qxh3,Qxd6+,Kb7,Rfg1,Qxh4,Qe7+,Ka6,Qe5,Qf2,Qxh8,Qxc2+,Ka1,Nd1,R5g2', 'Qc1#', 'https://lichess.org/training/O9K59');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O9kbt', 'Blitz', 'veres_danut', 1746, 'Agustinahumada', 1733, 'e4,e5,Nf3,Nc6,d3,Bc5,a3,a6,b4,Ba7,Bb2,d6,g3,Bg4,Bg2,Nf6,O-O,Ne7,Nbd2,Ng6,h3,Be6,c4,Qd7,Kh2,h5,Ng5,Nf8,Nxe6,Nxe6,h4,g5,hxg5,Nxg5,f4,exf4,Rxf4,Be3,Rxf6,h4,Nf3,hxg3+,Kxg3', 'Rh3+,Bxh3,Qxh3#', 'https://lichess.org/training/O9kbt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O9n26', 'Blitz', 'jozarov', 2326, 'Kenny1904', 2220, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Be3,O-O,Qd2,Re8,Bh6,Bh8,h4,c6,h5,b5,hxg6,hxg6,Bd3,b4,Ne2,e5,dxe5,dxe5,Bg5,Qb6,O-O-O,a5,Kb1,a4,Bc4,Be6,Bxe6,Rxe6,Bxf6,Bxf6,Qh6,Bg7,Qh7+,Kf8,Ng5,Re8,Rh3,b3,cxb3,axb3,a3,Qc5,Nc3,Qxf2,Rf3,Qc2+,Ka1,Rxa3+,bxa3', 'b2+,Ka2,b1=Q#', 'https://lichess.org/training/O9n26');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O9nqi', 'Blitz', 'Entr0p1e', 1722, 'mechchess', 1816, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,f3,Nxd4,Bxd4,Bxd4,cxd4,d6,Nc3,O-O,Qd3,a6,O-O-O,Bd7,Kb1,Nc6,a3,Rad8,Qc4,b5,Qd3,b4,axb4,Nxb4,Qc4,Rb8,d5,Rfc8,Be2,c5,Rhe1,h6,g3,Rb7,f4,Rcb8,b3,Nxd5,exd5,Rxb3+,Kc2,Rb2+,Kc1,Qf5,Bd3,Qh3,Qxa6,Qxh2,Qxd6', 'Rb1+,Bxb1,Qb2#', 'https://lichess.org/training/O9nqi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O9o5u', 'Blitz', 'youoyoussef', 1787, 'Griboyedov', 1666, 'd4,Nf6,Nc3,g6,Bg5,Bg7,e3,O-O,Be2,d6,h4,e5,h5,e4,hxg6,fxg6,Nh3,Bxh3,Rxh3,Nbd7,Bh5,gxh5,Rxh5,Qe8,Rh3,d5,Qe2,a6,O-O-O,b5,Rdh1,Rf7,Nxd5,Nxd5,Rxh7,c5,Qh5,N5f6', 'Rh8+,Bxh8,Qxh8#', 'https://lichess.org/training/O9o5u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9qCh', 'Rapid', 'vinodap', 1927, 'Pazuzu_aquarius', 1959, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,e6,a3,Be7,h3,O-O,e3,Nbd7,Nf3,a6,Be2,dxc4,Bxc4,b5,Be2,h6,O-O,Nd5,Bh2,N7f6,Rc1,Bd7,Bd3,a5,e4,b4,Nxd5,exd5,e5,Ne4,a4,f6,Re1,Bf5,Nh4,Nxf2,Kxf2,Bxd3,Qxd3,fxe5+,Nf3,e4,Qe3,Bh4+,Kg1,exf3,Qe6+,Kh8,Be5,Bxe1', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/o9qCh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O9RUq', 'Classical', 'EPchess', 1709, 'MrRai', 1638, 'e4,b6,f4,Bb7,Nc3,g6,d4,Bg7,e5,d6,Nf3,Nd7,e6,fxe6,Bd3,d5,O-O,Rc8,Ng5,Bxd4+,Kh1,Nf8,Bxg6+,hxg6,Qxd4,Nf6,Re1,Qd6,b4,a6,a4,c5,bxc5,bxc5,Qe3,d4,Qe5,Qc6,Nce4,Rh5,Re2,Rd8', 'Nxf6+,exf6,Qxf6', 'https://lichess.org/training/O9RUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9seH', 'Rapid', 'aruo', 2065, 'jessehf', 2165, 'd4,Nf6,c4,e6,Nc3,Bb4,Qb3,Nc6,Nf3,d6,a3,Bxc3+,Qxc3,O-O,e3,a5,Bd3,Qe7,O-O,e5,dxe5,dxe5,e4,Bg4,Nd2,Rfd8,h3,Bh5,Re1,Nd4,Nf1,h6,Ng3,Bg6,Be3,c5,f4,exf4,Bxf4,Nd7,Nf5,Bxf5,exf5,Qf6,Be4,Qb6,Rad1,Nf6,Bb1', 'Ne2+,Rxe2,Rxd1+', 'https://lichess.org/training/o9seH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9Te7', 'Rapid', 'moon__moon', 1838, 'kaplannnn', 1722, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,d4,exd4,Nxd4,O-O,Be3,Na5,Be2,c5,Nf5,d5,Nxe7+,Qxe7,exd5,Bf5,O-O,Rfd8,Qd2,a6,Rad1,b5,Rfe1,Nb7,Bf3,Nd6,Bg5,Qc7,Bxf6,gxf6,Qh6,Bg6,Bh5', 'Nf5,Qd2,Bxh5', 'https://lichess.org/training/o9Te7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9uEG', 'Blitz', 'WIM Fiona', 2082, 'SeanJose', 1812, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,Be3,Nc6,Be2,O-O-O,O-O,e5,Nxe5,Bxe2,Qxe2,Nxe5,dxe5,Nd5,Nxd5,Qxd5,Bf4,Qe6,Bg3,Bc5,a3,f6,b4,Bb6,Rfe1,Bd4,exf6', 'Qxe2,Rxe2,Bxa1', 'https://lichess.org/training/o9uEG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9v9s', 'Rapid', 'Evgen_kuzbass', 1927, 'Masouleh', 1909, 'd4,f5,c3,Nf6,Bf4,d5,Nf3,e6,e3,c6,Nbd2,Bd6,Bg3,O-O,Ne5,Bc7,Ndf3,Ne4,Be2,Nd7,Bf4,Nxe5,Bxe5,Bxe5,Nxe5,Qh4,g3,Qh3,Bf3,Ng5,Qe2,Nf7,Nxf7,Rxf7,O-O-O,Bd7,Rdg1,Qh6,h4,Qf6,Bg2,e5,f4,exf4,gxf4,Re8,Bf3,Qe6,Re1,Rfe7,Qg2,Qd6,Qf2,c5,h5,h6,Rhg1,cxd4,Rg6,Qc7,Bxd5+,Kh7,Qg2,dxc3,b3,Bc6,Rg1,Bxd5,Qxd5,Qd7,Qg2,Rg8', 'Rxh6+,gxh6,Qxg8#', 'https://lichess.org/training/o9v9s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9vyF', 'Rapid', 'Mercuryjon', 1792, 'lontugi', 1778, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Nf6,d3,Be7,Nbd2,O-O,h3,h6,a3,a6,Nf1,Be6,Ba2,Bxa2,Rxa2,Qd7,Ng3,Qe6,Ra1,Rad8,O-O,d5,Qe2,dxe4,dxe4,Bd6,Nf5,Ne7,N3h4,Nxf5,Nxf5,Kh7,Qf3,Nd7,Qg4,Qg6,Qh4,Nf6,Be3,Rfe8,f3,Be7,Qf2,b6,Nh4,Qh5,g4,Nxg4,fxg4,Qxh4,Qxh4,Bxh4,Rxf7,Rd3,Bf2,Rxh3', 'Kg2,Rd3,Bxh4', 'https://lichess.org/training/o9vyF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('O9WJ8', 'Rapid', 'GreatBonFire', 1700, 'ShipitsynPA', 2121, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,O-O,Bd3,Nc6,Nxc6,bxc6,e5,Nd5,Bxe7,Qxe7,Ne4,dxe5,Ng5,h6,Qe4,f5,Qc4,hxg5,Qxc6,Nxf4,Qxa8,Bb7,Qa7,Nxg2,Rhg1,Nf4,Bxa6,Qb4,Rxg5,Rf7,Qb8+,Kh7,Bxb7', 'Ne2+,Kb1,Nc3+,Ka1,Nxd1', 'https://lichess.org/training/O9WJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9YXA', 'Classical', 'JustKaze', 1722, 'Vijayemandi', 1825, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,d5,cxd5,exd5,Nf3,O-O,e3,c5,a3,Bxc3+,bxc3,c4,Be2,b5,O-O,h6,Bh4,Nbd7,Nd2,Qa5,Qc2,Re8,Bf3,g5,Bg3,Nb6,e4,g4,Bd1,Nxe4,Nxe4,Rxe4,Qd2,h5,Qg5+,Kf8,Bd6+,Ke8,Bb4,Qa6,Qg8+,Kd7,Qxf7+,Kc6,Qxh5,Bd7,Bxg4,Bxg4', 'Qg6+,Re6,Qxg4', 'https://lichess.org/training/o9YXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('o9zhU', 'Classical', 'mozgov70', 1639, 'herrahuh', 1708, 'd4,c5,dxc5,e6,e3,Bxc5,Nf3,Nf6,Nc3,O-O,Be2,d5,O-O,Nc6,a3,a6,b4,Ba7,Bb2,b5,Bd3,Bb7,Ne2,Rc8,Ned4,Nxd4,Bxd4,Bxd4,exd4,Qe7,Re1,Rc7,Qd2,Rfc8,a4,Rc3,axb5,axb5,Bxb5,Rxc2,Qf4,Qxb4,Bd3,R2c7,Rab1,Qe7,h3,g6,Qe5,Nd7,Qe3,Nf6,Ne5,Ba8,Ba6,Rf8,Rec1,Rxc1+,Qxc1,Qd6,Bb7,Bxb7,Rxb7,Qa6,Qc7,Qa1+,Kh2,Qxd4,Nxf7,Qxf2', 'Nh6+,Kh8,Qg7#', 'https://lichess.org/training/o9zhU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oa2oj', 'Classical', 'Ctacc', 1901, 'RomanoIV', 1946, 'Nf3,c5,g3,d5,Bg2,e6,O-O,Nf6,d3,Nc6,Nbd2,Bd6,Re1,O-O,e4,dxe4,dxe4,e5,b3,Bg4,Bb2,Nd4,h3,Nxf3+,Bxf3,Bxh3,Nc4,Bc7,Nxe5,Bxe5,Bxe5,Qe7,Bxf6,Qxf6,g4,Rfd8,Qe2,Qf4,Qe3,Qe5,Be2,Bxg4,Bxg4,h5,Bf3,Rd6,Kf1,Rad8,Red1,h4,Rxd6', 'Qxa1+,Rd1,Rxd1+,Bxd1,Qxd1+', 'https://lichess.org/training/Oa2oj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oA3df', 'Rapid', 'N3ubau3rGER', 2238, 'Marcello', 2043, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,Nf6,Bg2,b6,O-O,Bb7,Qe2,Be7,Re1,Qc7,a3,h6,exd5,Nxd5,Nc4,O-O,Nfe5,Nxe5,Nxe5,Bf6,Ng4,Be7,Nxh6+,gxh6,Bxh6,Nf6,Qd2,Bxg2', 'Qg5+,Kh7,Qg7#', 'https://lichess.org/training/oA3df');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oa5QX', 'Rapid', 'pumuckl26', 1795, 'grireco', 1801, 'e4,e5,Nc3,Nc6,Nf3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe5+,Be7,Nd5,Nxd5,exd5,O-O,Bc4,Bf6,Qg3,d6,O-O,Be5,Qd3,f5,f4,Bf6,Re1,a6,a3,b5,Ba2,c4,Qh3,Bb7,Qf3,Qd7,c3,Kh8,Bd2,Qf7,Re6,Rfe8,Rxd6,Rad8,Rxd8,Rxd8,Qh3,Qxd5,Be3,g6,Re1,Re8,Qf3,Qd7,Qf2,Qd8,Bb6', 'Rxe1+,Qxe1,Qxb6+', 'https://lichess.org/training/oa5QX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oA734', 'Blitz', 'Rodolfo1929', 2212, 'KingPace32', 2129, 'd4,d6,e4,Nd7,Nc3,h6,Bc4,g6,Qf3,e6,Nge2,Bg7,Be3,Ne7,h4,O-O,h5,g5,g4,e5,O-O-O,Nf6,Rhg1,Bxg4,Rxg4,Nxg4,Qxg4,exd4,Bxd4,Nc6,Bxg7,Kxg7,Ng3,Qf6,Nf5+,Kh7,Nd5,Qe5,f4,gxf4,Qh4,f6,Rg1,Rf7,Nxf4,Raf8,Qg4,Qxe4,Qg7+,Rxg7', 'Rxg7+,Kh8,Ng6#', 'https://lichess.org/training/oA734');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OA759', 'Rapid', 'apple-1', 2053, 'Entuzijasta', 2075, 'd4,d5,Nf3,Nf6,Bf4,a6,e3,Bf5,Bd3,Bxd3,Qxd3,e6,O-O,c5,c4,Nc6,a3,Qb6,dxc5,Qxb2,Nc3,dxc4,Qxc4,Ra7,Rfb1,Qc2,e4,Nxe4,Rc1,Qxf2+,Kh1,Nxc5,Rf1,Qc2,Rfc1,Qd3,Qa2,Be7,Qb2,O-O,Rd1,Qf5,Be3,b5,Rac1,Rc7,Bxc5,Qxc5,Ne4,Qxa3,Qc2,Rfc8,Ra1,Qb4,Qe2,Na5,Rdb1,Nb3,Rxa6,Rc1+,Rxc1,Rxc1+,Ng1,Qe1,Ra8+,Bf8', 'Nf6+,gxf6,Qg4+,Kh8,Rxf8#', 'https://lichess.org/training/OA759');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oa8uj', 'Blitz', 'bjaramillo22', 1522, 'Martinkooo', 1552, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,e6,Bf4,Nf6,e3,Bb4,Bd3,Bxd3,Qxd3,O-O,O-O,Nbd7,a3,Ba5,b4,Bc7,Bxc7,Qxc7,c5,Ng4,h3,Nh6,b5,Nf6,a4,Nd7,a5,f5,b6,axb6,axb6,Qd8,Ne2,Nf6,Nf4,Ne4,Nxe6,Qe7,Nc7,Rxa1,Rxa1,g5,Ra7,g4,Ne5,gxh3,gxh3,Qg5+,Kh2,Nxf2,Qe2,Nxh3,Qg2,Qxg2+,Kxg2,Ng5,Rxb7,f4,exf4,Rxf4,Rb8+,Kg7,b7,Rxd4,Rg8+,Kxg8,b8=Q+,Kg7,Qd8,Rd2+,Kg3,Ne4+,Kf3', 'Rf2+,Ke3,Nf5+,Kd3,Rd2#', 'https://lichess.org/training/oa8uj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oAaLb', 'Rapid', 'aajoshi1', 1771, 'bendahir', 1867, 'e4,Nc6,d4,e5,dxe5,Nxe5,Nf3,Nxf3+,Qxf3,f6,Bc4,Ne7,Qb3,Ng6,Bf7+,Ke7,Nc3,Ne5,Bh5,c6,Bf4,Ng6,Bxg6,hxg6,O-O-O,g5,Bg3,Qb6,Qc4,Kd8,f4,Qc5,Qe2,gxf4,Bxf4,d6,e5,d5,exf6,gxf6,Qf3,Bd6,Nxd5,Bxf4+,Nxf4+,Kc7,Ng6,Bf5,Qg3+,Kc8,Qb3,Bxg6,Qe6+,Kc7,Rd7+,Kb6,Qb3+,Qb5,Qe3+,Ka6,Rd4,b6', 'Qa3+,Qa5,Ra4,Qxa4,Qxa4+', 'https://lichess.org/training/oAaLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oAAnf', 'Rapid', 'acasasa1', 1628, 'Flau63', 1633, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,c4,Ne7,Nc3,Nc8,cxd5,cxd5,Qa4+,Nc6,Bb5,Qb6,O-O,Be7,Bg5,O-O,Bxc6,bxc6,Bxe7,Nxe7,Qa3,Bg4,Qxe7,Bxf3,gxf3,Qxd4,Qd6,Rac8,Kh1,Qf4,Rg1,Qxf3+,Rg2,h5,Qe7,d4,Qf6', 'Qxg2+,Kxg2,gxf6', 'https://lichess.org/training/oAAnf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OaAqj', 'Blitz', 'jngr', 2152, 'WFM perpz', 1917, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,Nbd2,O-O,h3,Ne7,Bb3,Ng6,Nf1,Nf4,Bxf4,exf4,d4,Bb6,Bc2,Re8,N1d2,c5,O-O,cxd4,cxd4,Bd7,Re1,Rc8,a4,a6,Nb3,Qc7,Rc1,Bxa4,e5,dxe5,Bxh7+,Nxh7,Rxc7,Rxc7,dxe5,Rec8,Qd3,Rc2,Nbd4,Rxb2,e6,fxe6,Nxe6,Bxf2+,Kh2,Bg3+,Kg1,Bxe1,Qg6,Bc3,Nfg5,Nxg5,Nxg5,Rc7,Qh7+,Kf8,Ne6+,Ke7,Nxc7,Kd6', 'Qd3+,Kxc7,Qxc3+', 'https://lichess.org/training/OaAqj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oaDIS', 'Rapid', 'marsig', 1725, 'Sebas0721', 1711, 'e4,e5,Nf3,Nc6,d3,Nf6,h3,Bc5,Be2,d6,Nc3,Be6,Na4,Bb6,Nxb6,axb6,O-O,Rxa2,Rxa2,Bxa2,b3,Qa8,Be3,O-O,c3,Qa3,b4,Qxc3,Bd2,Qb3,Qa1,Qa4,Rc1,Qa6,Rc2,Be6', 'Qxa6,bxa6,Rxc6', 'https://lichess.org/training/oaDIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OaDjp', 'Blitz', 'Kastoria', 1587, 'dangeranas', 1577, 'e4,e5,Nf3,Bc5,c3,Nf6,d3,d6,d4,exd4,cxd4,Bb4+,Nc3,O-O,Bd3,Bg4,O-O,Nc6,Be3,Qd7,a3,Ba5,b4,Bb6,d5,Ne5,Nxe5,Bxd1,Nxd7,Nxd7,Raxd1,Bxe3,fxe3,c6,dxc6,bxc6,Bc4,Ne5,Bb3,Ng4,Rf3,Ne5,Rg3,a5,Rxd6,axb4,axb4,Ra1+,Kf2,Ra3,Rg5,Rxb3,Na4,f6,Rg3,Rxb4,Nc5,Rb2+,Ke1,Ra8,Rd1,h6,Ne6,Raa2', 'Rxg7+,Kh8,Rd8#', 'https://lichess.org/training/OaDjp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oAdlL', 'Classical', 'almagd_10', 2021, 'ibraheem1999', 1893, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Be2,e5,Nf3,Be6,O-O,h6,Be3,Be7,h3,Nc6,Nd2,O-O,Bc4,Qc7,Bb3,b5,Nd5,Bxd5,exd5,Na5,c4,bxc4,Rc1,Qb7,Nxc4,Nxb3,axb3,Nxd5,Na5,Nxe3,Nxb7,Nxd1,Rfxd1,Rab8,Rc7,Rfe8,Ra1,d5,Rxa6,d4,Kf1,Rbc8,Rac6,Rxc7,Rxc7,Bf8,Rd7,f6,f3,Ra8,Nd8,Ra2,Ne6,Ra6,Nc7,Rb6,f4,Rxb3,Ne6,Rb6,f5,Rd6', 'Nxf8,Rxd7,Nxd7', 'https://lichess.org/training/oAdlL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OaDtx', 'Rapid', 'TheFallenAgent', 1825, 'call4ft', 1870, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,e5,f4,d5,fxe5,dxe4,Bxe4', 'Qh4+,Kf1,Qxe4', 'https://lichess.org/training/OaDtx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oah9t', 'Rapid', 'shukvanilevan', 1773, 'tatianacorti', 1705, 'e4,e6,e5,d5,exd6,Bxd6,b3,Be5,Nc3,Nf6,Bb2,c6,Nf3,Bc7,d3,Nbd7,Ne4,e5,Qd2,Ba5,b4,Bc7,Qg5,O-O,Nxe5,Nxe4,Qxd8,Rxd8,Nxd7,Bxd7,dxe4,Re8,f3,a5,a3,a4,Bd3,b5,Kf2,Bd8,g3,Bf6,Bxf6,gxf6,f4,Be6,Kf3,Rad8,g4,Bc8,g5,fxg5,Rhg1,h6,fxg5,h5,g6,Bg4+,Kg3,fxg6,h3,Be6,Kh4,Rd4,Rxg6+,Kh7,Kxh5', 'Bf7,Kg5,Bxg6', 'https://lichess.org/training/oah9t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OaIte', 'Rapid', 'Maritim', 1712, 'przew', 2302, 'e4,c5,Nf3,d6,c3,Nf6,Be2,g6,O-O,Bg7,Na3,Nxe4,Qa4+,Nc6,Qxe4,O-O,Bb5,Bf5,Qe2,Ne5,d4,cxd4,cxd4,Ng4,Bd3,Bd7,Ng5,Bxd4,Nb5,Bxb5,Bxb5,h5,Qe4,Qb6,Bc4,Bxf2+,Kh1,Bd4,Bxf7+,Rxf7,Qxg6+,Rg7,Qe6+,Kh8,Nf7+,Rxf7,Rxf7,Bg7,h3,Nf6,Qxe7,Rg8,Bh6,Bxh6,Qxf6+,Bg7,Qg6,Qc5,Rxb7,Qe5,Rd7,Qh2+,Kxh2,Be5+,Kh1,Rxg6,Rxa7,Bxb2,Rb1,Bg7,Rb8+,Kh7,a4,Kh6,a5,Re6,Rg8,Re1+,Kh2,Be5+,g3,Re2+,Kg1', 'Bd4+,Kf1,Rf2+,Ke1,Bxa7', 'https://lichess.org/training/OaIte');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oAJDl', 'Blitz', 'Spike-Spiegel', 2080, 'mutalisp', 2009, 'e4,e5,f4,d5,Nf3,dxe4,Nxe5,Nd7,Nxd7,Bxd7,Nc3,Nf6,Bc4,Bc5,b3,Bg4,Ne2,O-O,Bb2,Re8,h3,e3,d4,Bb4+,c3,Bxe2,Qxe2,Bd6,O-O-O,Bxf4,Rdf1,Bh6,g4,Qd7,Rhg1,Nd5,g5,Nb6,gxh6,Nxc4,Rxg7+,Kh8,Rfxf7,Qxh3,Rxh7+,Kg8,Rfg7+,Kf8,Qf1+,Qxf1+,Kc2,Qe2+,Kb1,Qd2,Rf7+,Kg8,Rhg7+,Kh8', 'Rh7+,Kg8,Rfg7+,Kf8,Rh8#', 'https://lichess.org/training/oAJDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oaJoy', 'Blitz', 'IM ChessHobbits99', 2602, 'glaswegian', 2304, 'e4,c5,a3,g6,h4,h5,Nc3,Bg7,Bc4,Nc6,d3,e6,Bg5,Nge7,Nf3,a6,a4,d6,Qd2,Nd4,O-O-O,Nxf3,gxf3,Qa5,Bxe7,Kxe7', 'Nd5+,exd5,Qxa5', 'https://lichess.org/training/oaJoy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oaKA7', 'Blitz', 'Dinamik967', 1832, 'VlamirB', 1861, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be6,Bd3,Nc6,O-O,Qd7,Be3,O-O-O,b4,Be7,c4,h6,b5,Nb8,a4,g5,Nd4,g4,Nxe6,fxe6,Qxg4,Rdg8,Qf3,Bg5,Bxg5,Rxg5,Be4,c6,bxc6,Nxc6,Bxc6,bxc6,Rfd1,Rhg8,g3,h5,h4,Rg4,Qd3,d5,cxd5,exd5,Qa6+,Kd8,Rab1,Qc7,Rd3,Rxh4,Rb7,Qe5,Re3', 'Qa1+,Qf1,Rh1+,Kxh1,Qxf1+', 'https://lichess.org/training/oaKA7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oAKt3', 'Classical', 'dodora', 1829, 'Eni_Oro', 1658, 'e4,e5,c4,Bc5,Nf3,Nc6,d3,f6,h3,Nge7,Be2,O-O,O-O,f5,exf5,Nxf5,Nc3,Ng3,Re1,d6,Kh2,Bxf2,Bg5,Qe8,Nd5,Qf7,Bh4,Bxe1,Qxe1,Nxe2,Qxe2,Nd4,Nxd4,exd4,Re1,c6,Ne7+,Kh8,Qd2,Be6,Qe2,Rae8', 'Qxe6,Qxe6,Rxe6', 'https://lichess.org/training/oAKt3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oan3c', 'Blitz', 'tbonnin', 1587, 'Theo_is_thinking', 1596, 'e4,e6,d4,b6,Nc3,Bb7,Be2,Bb4,Bd3,Nf6,Qe2,O-O,Bd2,Bxc3,Bxc3,Re8,Nf3,Nd5,O-O,Nf4,Qd2,Qf6,Rfe1,a6,d5,Qh6,Rad1,exd5,exd5,Rf8,Bc4,d6,Qd4,Nd7,Bd2,g5,h4,Ne5,hxg5', 'Nxf3+,gxf3,Qxg5+,Kf1,Qg2#', 'https://lichess.org/training/Oan3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OaNh7', 'Rapid', 'Gokdeniz46', 2108, 'pepe0217', 2237, 'e4,e6,d4,d5,e5,c5,Qg4,cxd4,Bd3,Nc6,Nf3,Qc7,O-O,Nxe5,Nxe5,Qxe5,Bf4,Qf6,Qg3,Qd8,Nd2,Nf6,Bc7,Qd7,Be5,a6,Rae1,Qd8,Bc7,Qd7,Be5,Qc6,Nb3,Bd7,Nxd4,Qb6,Nf5,O-O-O,Qxg7,Bxg7', 'Ne7#', 'https://lichess.org/training/OaNh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OAnyN', 'Blitz', 'Dynnaaleirbag', 2097, 'WCM Intoirrelevance', 2086, 'e4,c6,d4,d6,Nc3,Nf6,f4,g6,Nf3,Bg7,Be2,O-O,O-O,c5,Be3,cxd4,Bxd4,Nc6,h3,Nxd4,Qxd4,Nh5,Qe3,Ng3,Rf2,Nxe2+,Rxe2,Be6,Nd4,Bd7,f5,Qb6,Nb3,gxf5,Qxb6,axb6,exf5,Bxf5,Rxe7,Bxc2,Rae1,Bxb3,axb3,Rac8,Rxb7,Rfe8,Rxe8+,Rxe8,Rxb6', 'Bd4+,Kh2,Bxb6', 'https://lichess.org/training/OAnyN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oaNzq', 'Rapid', 'victoriavargasdiaz', 1847, 'VYM123', 1853, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nc6,Nf3,h6,a3,Nf6,Bf4,a6,Bd3,Bg4,Be2,e6,h3,Bh5,O-O,Be7,Re1,Qb6,Be3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/oaNzq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oaq3z', 'Bullet', 'Lexman661', 1825, 'amir210', 1867, 'b3,d5,Bb2,Bf5,d3,Nf6,Nd2,e6,g3,Nbd7,Bg2,c5,Ngf3,Bd6,Nh4,Bg6,Nxg6,hxg6,h4,Qc7,Nf3,Bxg3,fxg3,Qxg3+,Kf1,Ng4,Qe1', 'Ne3+,Kg1,Qxg2#', 'https://lichess.org/training/oaq3z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oaQwn', 'Rapid', 'Donsousa', 1724, 'Nestor_10', 1769, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,c3,Nf6,Bd3,d6,Nd2,O-O,f3,Bd7,Qe2,Ne5,Bc2,Nc6,h4,h5,Bb3,Nxd4,Bxd4,Be6,O-O-O,Bxb3,Nxb3,a5,g4,a4,Nd2,e5,Be3,a3,b3,Qa5,Kc2,Rfc8,c4,b5,Rhg1,bxc4,Nxc4,Rab8,Kb1,Qa4,Nb6,Rxb6,Bxb6,Qb4,Be3,hxg4,Bd2,Qd4,Bc1,gxf3,Qxf3', 'Rxc1+,Kxc1,Qb2#', 'https://lichess.org/training/oaQwn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OaqxR', 'Blitz', 'geolmex', 2016, 'Rooka82', 1996, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Bg4,Be2,c6,d4,Nf6,Be3,e6,h3,Bxf3,Bxf3,Nbd7,Qe2,Be7,O-O-O,Nd5,Nxd5,cxd5,Kb1,Qb6,Rd3,O-O,Rb3,Qc7,g3,a5,Bf4,Bd6,Bxd6,Qxd6,Rxb7,Rfb8,Qb5,Rxb7,Qxb7,Rb8,Qa7,Qc6,Qxa5,Rc8,Rc1,Ra8,Qc3,Qa6,a3,Nb6,Qd3,Qb7,Be2', 'Nc4,Qb3,Nd2+,Ka2,Nxb3', 'https://lichess.org/training/OaqxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oArTF', 'Rapid', 'ClassyND', 1766, 'tommyxd', 1780, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Nc3,e6,d3,Qa5,O-O,a6,Bxc6,bxc6,d4,cxd4,Nxd4,c5,Nb3,Qc7,Re1,Bb7,e5,Nd5,Nxd5,Bxd5,Qg4,c4,Nd2,Qb7,Nxc4,Qb4,Bd2', 'Qxc4,Qxc4,Bxc4', 'https://lichess.org/training/oArTF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OaRvy', 'Blitz', 'RSF932', 1533, 'Simon161rst', 1537, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,d4,Bf5,c3,e6,Nf3,Bd6,g3,Be4,O-O,Na5,Ba4+,Nc6,Ne5,Qc7,f4,Nf6,Nd2,Bf5,Nb3,Bxe5,dxe5,Ne4,Nd4,Bh3,Rf3,O-O-O,Rd3,f6,Nxe6,Qb6+,Nd4,Nxd4,cxd4,fxe5,fxe5,Rhf8,Qc2+,Kb8,Bf4,Rxf4,gxf4,g5,f5,Rf8,f6,Nxf6,Rxh3,Ne4,Rxh7', 'Qxd4+,Kg2,Rf2+,Kh1,Rxc2', 'https://lichess.org/training/OaRvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oaSO6', 'Rapid', 'KonF3', 1929, 'rookie_2107', 1847, 'e4,e5,f4,Nf6,Nc3,exf4,Nf3,Bb4,Bc4,Bxc3,dxc3,Nxe4,Bxf7+,Kxf7,Ne5+,Kf6,Bxf4,d5,O-O,Bf5,Qd4,Nc6', 'Nxc6+', 'https://lichess.org/training/oaSO6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OasP7', 'Rapid', 'Bendicto3', 1916, 'HenrykV', 1889, 'd4,b6,c4,Bb7,Nc3,Nf6,Nf3,g6,Bg5,Bg7,e3,O-O,Bd3,d6,O-O,Nbd7,h3,c5,d5,Ne5,Nxe5,dxe5,f4,exf4,exf4,Qd6,Nb5,Qd7,a4,e6,Nc3,exd5,cxd5,Nxd5,Nxd5,Qxd5,Qe2,Bxb2,Rad1,Bd4+,Kh1,Rad8,Bc4,Qc6,Qg4,h5,Qg3,Rde8,Bb5,Qd5,Bxe8,Rxe8,Rfe1,Re3,Rxe3,Qa2,Red3,Bf2,Rd8+,Kg7,Qc3+,Bd4,R1xd4', 'Qxg2#', 'https://lichess.org/training/OasP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oaspB', 'Blitz', 'berkcity', 1772, 'foursquare', 1768, 'e4,c5,Nf3,Nc6,Bc4,d6,b3,Bg4,h3,Bxf3,Qxf3,e6,Bb2,a6,Be2,Nd4,Qd3,e5,Bg4,b5,Bxd4,cxd4,O-O,Nf6,Bf3,Be7,Qe2,O-O,d3,b4,Nd2,d5,exd5,Nxd5,Qe4,Nc3,Qxa8,Qxa8,Bxa8,Rxa8,Nc4,f6,Rfe1,Bd8,f4,Bc7,fxe5,fxe5,Nxe5,Nd5,Ng4,h5,Nf2,Ne3,Re2,Rf8,a3,a5,axb4,axb4,Ra4,Bd6,Ra6,Be7,Ra5,g6,Ra6,Kh7,Re6,Bg5,Re4,Rd8,g3,Rd7,h4,Bh6,Re6,Rf7,Rd6,Nf5,Rb6,Nxg3,Ree6,Be3,Rf6,Rg7,Kg2,Nf5,Ne4,Nxh4+,Kh3,Nf5,Rxb4,Ne7,Rb8,Nd5,Rff8,g5,Rh8+,Kg6,Rbd8,g4+,Kg2,Nf4+,Kf1,Rf7,Ke1,Ng2+,Ke2,Rf2+,Kd1', 'Rf1+,Ke2,Re1#', 'https://lichess.org/training/oaspB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oaTDf', 'Rapid', 'dimitrovec60', 1887, 'Xaerolated', 1782, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,Qa5+,Nd2,Qa6,Qf5,e6,Qf4,Nd7,Ngf3,Be7,Nb3,Nh6,Ng5,O-O,Qf3,Nf5,Nh3,c5,Be3,Qc4,c3,cxd4,Nxd4,Nxd4,Bxd4,Bc5,Rd1,Qxa2,O-O,Qb3,Ng5,b6,Qh5,h6,Nf3,Bxd4,Rxd4,Qxb2,Rh4,Qc2,Rg4,Qf5,Qh4,h5,Rg5,Qh7', 'Rxh5,Qxh5,Qxh5', 'https://lichess.org/training/oaTDf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OAtke', 'Rapid', 'BlackSlon', 2105, 'PThery', 2231, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,e3,Be7,Nf3,Nbd7,c5,e5,dxe5,Ne4,Bxe7,Qxe7,Bd3,Nexc5,O-O,Nxd3,Qxd3,Nxe5,Nxe5,Qxe5,e4,O-O,exd5,Bf5,Rfe1', 'Qxe1+,Rxe1,Bxd3', 'https://lichess.org/training/OAtke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oAuGq', 'Rapid', 'nkshirsa', 1687, 'bmp177', 1695, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,Bc5,Be3,Bb6,Nc3,d6,Nd5,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Nxb6,axb6,Bxf7+,Kf8,Bg6,Qf6,Bf5,h5,Bg5,Bxf3,Bxf6,Bxd1,Bxg7+,Kxg7,Raxd1,Nd4,c3,Nf3+,Kh1,Kf6,Kg2,Nh4+,Kh3,Nf3,Kg3,Ng5,f4,h4+,Kg4,Nf7,fxe5+,Nxe5+,Kh3,Rag8', 'Bh7+,Ke6,Bxg8+', 'https://lichess.org/training/oAuGq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oav3t', 'Blitz', 'GM S_Guliev', 2443, 'adrianrdosina', 2471, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be2,Nc6,O-O,Be7,Be3,O-O,f4,Bd7,Qe1,a6,Rd1,Qc7,Qg3,b5,a3,Rac8,Bd3,b4,axb4,Nxb4,e5,Ne8,f5,dxe5,fxe6,exd4,Bf4,Qa7,exd7,dxc3+', 'Be3,Qxd7,Bxh7+,Kxh7,Rxd7', 'https://lichess.org/training/Oav3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OAX8R', 'Rapid', 'TOTO123', 1673, 'hamou', 1848, 'c4,d6,d4,e6,Nc3,g6,Nf3,Bg7,e4,Ne7,Be2,O-O,Be3,c6,O-O,a6,Qd2,b5,Bh6,f6,a3,Nd7,Rfe1,Nb6,b3,bxc4,bxc4,d5,c5,Nd7,Rab1,g5,Bxg7,Kxg7,exd5,exd5,Nxg5,fxg5,Qxg5+,Ng6,Qe3,Re8,Qg3,Qf6,Bd3,Rxe1+,Rxe1,Nf8,Ne2,Bf5,Qc7+,Qf7', 'Qxf7+,Kxf7,Bxf5', 'https://lichess.org/training/OAX8R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OaXHS', 'Rapid', 'elco_19', 1773, 'Bahrom_Orinboyev', 1866, 'e4,e5,Nf3,Nc6,c3,Bc5,Bb5,Nge7,O-O,O-O,Re1,d6,d4,exd4,cxd4,Bb6,Bg5,h6,Bh4,g5,Bg3,Bg4,Qd3,Ng6,d5,Nce5,Nxe5,dxe5,Nc3,Nf4,Qc4,Qf6,Rad1,Bxd1,Nxd1,Rac8,Ne3,c6,dxc6,bxc6,Ba4,Rfd8,Nf5,Rd2,Bb3,Rc7,Qb4,Nd3,Qxd2,Rd7,Rd1,Nc5,Qc3,Rxd1+,Bxd1,Nxe4,Qxe5', 'Bxf2+,Bxf2,Qxe5', 'https://lichess.org/training/OaXHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oaXJA', 'Rapid', 'Sudadera', 2416, 'Checkmatealot', 2459, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c4,b4,Nc2,O-O,g3,Bg5,h4,Bh6,Bh3,Rb8,b3,Be6,Kf1,a5,Kg2,g6,Qd3,Bg7,Rad1,Nd4,Nxd4,exd4,Nf4,Bxh3+,Rxh3,Qe7,Rhh1,Rfe8,f3,a4,Rhe1,axb3,axb3,Ra8,Rd2,Ra3,h5,Qg5,hxg6,fxg6,Ne2,Rea8,f4,Qg4,Nxd4,h5,Nb5,Ra2,Ree2,Rxd2,Rxd2,Ra1,Qd5+,Kh7,Qg5,Qxg5,fxg5,Be5,Nxd6,Rb1,Nf7,Bc3,Rd7,Rxb3,c5,Rb2+,Kh3,Bg7,c6,Rc2,c7', 'b3,c8=Q,Rxc8', 'https://lichess.org/training/oaXJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oAXL8', 'Blitz', 'Alex_Ra', 2337, 'IM daregu', 2526, 'd4,Nf6,Nf3,c5,c3,b6,Bf4,Bb7,Nbd2,cxd4,cxd4,g6,e3,Bg7,Bd3,O-O,h3,Nc6,O-O,Nb4,Be2,d6,a3,Nc6,Rc1,Rc8,Qa4,a6,b4,b5,Qb3,Nd7,a4,bxa4,Qxa4,Qb6,b5,axb5,Qxb5,Qxb5,Bxb5,Nf6,e4,Na7,Bd3,Rxc1,Rxc1,Rc8,Rxc8+,Nxc8,Kf1,Nb6,Ke2,d5,e5,Ne4,Nb3,e6,Ng5,Nxg5,Bxg5,Bf8,Bd2,Nc4,Bc3,Be7,Nd2,Nb6,Nb3,Nd7,Na5,Bc8,Nc6,Bf8,Bd2,Bb7,Na5,Bc8,f4,Nb8,g4,Ba6,Nb3,Bxd3+,Kxd3,Nc6,Bc3,Be7,Nd2,f6,Nf3,fxe5,fxe5,Kg7,Bd2,Kf7,Bg5,Bf8,Bd2,h6,Nh4,g5,Nf3,Kg6,Bc3,Be7,Ke3,h5,Kd3,h4,Ne1,Nd8,Nf3,Nf7,Ke3,Nd8,Bd2,Nc6,Kf2,Nb8,Bc3,Nc6,Bb2,Nb8,Bc1,Nc6,Bd2,Nb8,Ke3,Nc6,Be1,Bd8,Nd2,Be7,Nb3,Nd8,Nc1,Nf7,Nd3,Nh8,Bb4,Bxb4,Nxb4,Kf7,Nc6,Ng6,Nb4,Nf4,Nd3,Nxh3,Ne1,Nf4,Nf3,h3,Kf2,Kg6,Kg3,Ne2+,Kxh3,Nf4+,Kg3,Ne2+,Kf2,Nf4,Ke3,Nh3,Kd3', 'Nf2+,Ke2,Nxg4', 'https://lichess.org/training/oAXL8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OAzOC', 'Blitz', 'CM Hapaku24', 2440, 'nemesisaj', 2459, 'c4,Nf6,Nc3,e5,Nf3,Nc6,e4,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,Nc6,Qd1,d6,Be2,h6,O-O,O-O,f3,Ne5,Be3,Qe7,Qd2,Be6,b3,Rfd8,Rae1,a5,h3,Nh7,f4,Nc6,Nd5,Bxd5,exd5,Nb4,Bd4,Qd7,a3,Na6,Bg4,f5,Bh5,Nc5,Bxc5,dxc5,Re6', 'Qxe6,dxe6,Rxd2', 'https://lichess.org/training/OAzOC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oB2Ds', 'Classical', 'slamjam', 1811, 'VicenteO', 1986, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,Ne5,Be2,Qg6,O-O,Qxe4,Nd2,Qg6,N2b3,Bb6,a4,a5,Qd2,d6,Bf4,h5,Rad1,Bh3,Bg5,Bg4,Bxe7,Kxe7,Rfe1,Kd7,Bxg4+,hxg4,Rxe5,dxe5,Nc6+,Ke6,Qd7+,Kf6', 'Qe7+,Kf5,Qxe5#', 'https://lichess.org/training/oB2Ds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ob3PK', 'Rapid', 'simsim314', 1938, 'Ronilo', 2152, 'e4,e6,d4,d6,Nf3,Ne7,Bg5,c6,Bd3,Qb6,O-O,Qxb2,Nbd2,Qb6,Nc4,Qc7,Bf4,Ng6,Bg3,Be7,d5,e5,dxc6,bxc6,Qd2,O-O,Ng5,Na6,f4,Bxg5,fxg5,Nc5,h4,Nxd3,cxd3,Rd8,h5,Nf8,g6,hxg6,hxg6,Nxg6,Qg5,Be6,Rac1,Rab8,Qd2,Qe7,d4,Bxc4,Rxc4,Rb6,Qf2,d5,exd5,cxd5,Ra4,e4,Qe3,Rb2,Rf2,Rxf2,Bxf2,Rd7,Qb3,Nf4', 'Qb8+,Qd8,Qxf4', 'https://lichess.org/training/Ob3PK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oB5pK', 'Rapid', 'Emilbelchev111', 1994, 'AlphaZero116', 2164, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,Nc6,Bc4,O-O,Qd2,Bd7,O-O-O,Rc8,Bb3,Ne5,Bg5,Nc4,Bxc4,Rxc4,Nde2,b5,e5,b4,exf6,bxc3,Nxc3,exf6,Bh6,Qa5,Bxg7,Kxg7,Qxd6,Be6,Rd4,Rxc3,bxc3,Qxc3,Qb4', 'Qa1+,Qb1,Qxd4', 'https://lichess.org/training/oB5pK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ob6p7', 'Rapid', 'Bollybill', 2190, 'Catch22Sqd', 2118, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,Be7,a4,a6,a5,O-O,Bd2,Bb7,Na4,e5,Nb6,Ra7,c3,Bc5,Na4,Be7,b4,e4,Bc2,Bc6,Be3,Rb7,Nc5,Bxc5,Bxc5,Re8,Qd2,h6,Qf4,Qd7,Bd4,Re6,Bb3,Bb5,Rfe1,Qc6,Re3,Nh7,h4,Rg6,Rae1,Bc4,Bd1,Nf6,Kh1,Re7,h5,Rg5,Bxf6,Qxf6,Qxf6,gxf6,f4,Rg7,g4,f5,gxf5,f6,Kh2,Kh7,Rg3,Rxg3,Kxg3,Rg7+,Kf2,Kg8,Rg1', 'e3+,Kxe3,Rxg1', 'https://lichess.org/training/Ob6p7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OB7Hs', 'Rapid', 'arajkhowa86', 1784, 'Senan_000', 1809, 'e4,c5,d3,Nc6,Nf3,e6,Be2,d5,c3,dxe4,dxe4,Qxd1+,Bxd1,Nf6,e5,Nd5,Bg5,Be7,Bxe7,Ndxe7,Nbd2,Ng6,Nc4,O-O,Bc2,b5,Bxg6,bxc4,Be4,Bd7,Ng5,h6,Nf3,Rab8,Rd1,Be8,Rd6,Nd8,Nd2,Rxb2,Rxd8,Rxa2,Nxc4,Ra1+,Rd1,Ra4,Nd6,a5,Bc2,Ra3,Nxe8,Rxe8,Kd2,Ra2,Rc1,a4,Ra1', 'Rd8+,Ke3,Rxc2', 'https://lichess.org/training/OB7Hs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ob82X', 'Classical', 'lutom', 1700, 'EmrhRmc', 1610, 'd4,g6,c4,Bg7,Nc3,e6,Nf3,Nf6,Bg5,d6,e4,h6,Bh4,g5,Bg3,g4,Nd2,Nc6,Nb3,O-O,Be2,h5,Bh4,e5,O-O,Qe8,f3,exd4,Nxd4,gxf3,Bxf3,Bg4,Bxf6,Bxf6,Bxg4,Bxd4+,Kh1,hxg4,Qxg4+,Bg7,Nd5,Qe6', 'Nf6+,Qxf6,Rxf6', 'https://lichess.org/training/Ob82X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ob9Gu', 'Blitz', 'Sajad__3zar', 1823, 'americanspecops', 1894, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,f3,Nf6,Nxf6+,gxf6,Bf4,h5,Qd2,Qb6,O-O-O,Nd7,d5,O-O-O,dxc6,bxc6,Qc3,e5,Be3,Qb7,Qa5,Nb6', 'Ba6,Rxd1+,Kxd1,Kb8,Bxb7', 'https://lichess.org/training/Ob9Gu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OBaTb', 'Rapid', 'KelaniyeKollekFera97', 1830, 'palet_master', 1842, 'e4,c5,Bc4,Nc6,Nf3,g6,c3,Nf6,d3,Bg7,O-O,O-O,h3,d5,exd5,Nxd5,Re1,Bf5,Nh4,Qd7,Nxf5,Qxf5,Be3,Nxe3,Rxe3,e6,Rf3,Qe5,Nd2,a6,Bb3,b5,Rc1,b4,Nc4,Qc7,Ne3,bxc3,bxc3,Rfd8,Ng4,Ne5,Nxe5,Qxe5,Re3,Qf5,Rf3,Qe5,Re3,Qc7,Qf3,Bh6,Rxe6,Bxc1,Rc6,Qe7,Qd1,Bh6,Qg4,Rxd3,Rxg6+,hxg6,Qxg6+,Kf8,Qxh6+,Ke8,Qc6+,Qd7,Qxa8+,Ke7,Qe4+,Kd8,Qa8+,Qc8,Qe4,Rd7,Qh4+,Kc7,Qa4,Kb6,Qf4,Qc7,Qf6+,Ka7,Qg5,Re7,Qd2,Qe5,Kf1,Kb6,g3,f6,Qb2', 'Qe1+,Kg2,Re2,Qxe2,Qxe2', 'https://lichess.org/training/OBaTb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('obaW5', 'Blitz', 'nosoynirvana', 2193, 'Raulif_0-7', 2089, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be7,Be3,O-O,Qd2,Nbd7,O-O-O,Qc7,g4,Nc5,Kb1,Nxb3,cxb3,Be6,h4,Rfd8,Nd5,Bxd5,exd5,Nd7,h5,a5,Bb5,Nc5,g5,Rdc8,g6,Bf6,h6,fxg6,hxg7,Bxg7,Bxc5,Qxc5,Bd7,Rc7,Be6+,Kh8,Rxh7+,Kxh7', 'Rh1+,Bh6,Qxh6#', 'https://lichess.org/training/obaW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oBChe', 'Rapid', 'Erni1963', 2164, 'Nabukrieger', 2177, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,d6,Nf3,a6,O-O,Nf6,Be3,Bg4,Qb3,e6,Qxb7,Rc8,Bxa6,e5,Bb5,Qd7,Bxc6,Rxc6,Qa8+,Rc8,Qa5,Be7,Nd2,O-O,f3,Be6,Qb5,Rfd8,Qxd7,Rxd7,a3,d5,exd5,Nxd5,Nxd5,Rxd5,Rfc1,Rcd8,Ne4,f5,Nc3,Rd3,Re1', 'Rxe3,Rxe3,Bc5,Kh1,Bxe3', 'https://lichess.org/training/oBChe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObdjC', 'Classical', 'iradj', 1658, 'venkata722', 1716, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,e6,Na3,Nge7,Nc4,O-O,Nd6,a6,Bxc6,dxc6,e5,Bxe5,Nxc8,Bxh2+,Nxh2,Qxc8,d4,cxd4,Bh6,Rd8,cxd4,Qd7,Nf3,Nf5,Bg5,Rf8,Be3,Rad8,g4,Nxe3,fxe3,Qd5,Rf2,Rd6,g5,Rfd8,Ne5', 'Qxe5,dxe5,Rxd1+', 'https://lichess.org/training/ObdjC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OBDzQ', 'Rapid', 'BWS1978', 1968, 'Gagai', 1958, 'e4,d5,exd5,Qxd5,Nf3,Qa5,Be2,Bg4,O-O,c6,h3,Bxf3,Bxf3,e6,d4,Nf6,Bg5,Qxg5,Nc3,Qa5,Ne4,Nxe4,Bxe4,Nd7,f4,Nf6,Bd3,Bd6,c4,Qc7,Qf3,Be7,Rae1,O-O-O,d5,cxd5,cxd5,Rxd5,Be4,Nxe4,Qxe4,Qb6+,Kh1,Qxb2,Rb1,Qxa2,Rfc1+,Bc5,Rxc5+,Rxc5,Qxb7+,Kd8,Qb8+,Ke7,Rb7+,Kf6,Qxh8,Rc2,Qd8+,Kg6', 'Qg5#', 'https://lichess.org/training/OBDzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oBE76', 'Classical', 'MagicAce1988', 1684, 'mneis', 1691, 'e4,e5,f4,exf4,Bc4,Qh4+,Kf1,Bc5,d4,Bb6,Nf3,Qh6,g3,g5,h4,g4,Ne5,d6,Bxf7+,Kf8,Bxf4,Qf6,Bxg8,dxe5,dxe5,Qc6,Bd5,Qb5+,c4,Qxb2,Nd2,Qd4,Rh2', 'Qg1+,Ke2,Qxh2+', 'https://lichess.org/training/oBE76');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObEDB', 'Rapid', 'KiwiChemist', 2010, 'acetaminophen', 2015, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Be2,Bg4,O-O,Nd7,Re1,O-O-O,Ng5,Nxg5,Bxg4,Qf6,Bxd7+,Rxd7,h4,Ne6,d5,Nd8,Qg4,h6,Re8,g5,h5,Bg7,Rxh8,Bxh8,Nc3,Qe5,Be3,f5,Qa4,a6,Re1,f4,Bd2,Qf5,Re8,Be5,Nb5,Qf7,Rf8,Qxf8,Na7+,Kb8,Qxd7,Kxa7,Qxc7,Bxb2,Ba5,Bf6', 'Bb6+,Ka8,Qc8#', 'https://lichess.org/training/ObEDB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OBedx', 'Classical', 'goncagul34', 1885, 'XohoooohoX', 1992, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bd3,e5,Nf5,Bxf5,exf5,d5,Bg5,Be7,O-O,Nc6,Be2,Nd4,f4,Nxe2+,Qxe2,e4,Rad1,Qb6+,Kh1,O-O,Nxd5,Nxd5,Rxd5,f6,Rd7,Bc5,Bh4,e3,Rfd1,Rad8,b3,Rxd7,Rxd7,Rd8,Qc4+,Kh8,Qxc5,Rxd7', 'Qf8#', 'https://lichess.org/training/OBedx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oBEIR', 'Classical', 'halid321', 1923, 'sparkeagle', 1957, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Qf6,c4,Qg6,Nc3,Nf6,Nd5,Qxe4+,Qe2,Qxe2+,Bxe2,Nxd5,cxd5,Bb4+,Bd2,Bxd2+,Nxd2,Nd4,Bd3,O-O,Nc4,Rd8,Nxe5', 'Re8,Kd2,Rxe5', 'https://lichess.org/training/oBEIR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oBePi', 'Rapid', 'Ekadmitry', 1789, 'aminm777', 1935, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Nc3,Bb4,Bd2,O-O,O-O-O,a5,a3,Bxc3,Bxc3,a4,Bc4,d6,e5,Ng4,Qg3,Ncxe5,h3,Nxc4,hxg4,Qg5+,f4,Qxg4,Qxg4,Bxg4,Rd4,b5,Nh3,f6,Nf2,Bd7,g4,Rad8,f5,c5,Rdd1,Bc6,Rhe1,Bf3,Rd3,Bc6,Ne4,Bxe4,Rxe4,d5,Re7,d4,Bd2,Ne5,Rg3,Nd7,Ba5,Ra8,Bc7,Ne5,Bxe5,fxe5,Rxe5,Rac8,g5,Rfe8,Rd5,Kf7,Rd7+,Re7,Rxe7+,Kxe7,Rf3,Kf7,Rh3,Kg8,g6,hxg6,fxg6,Re8,Rh5,Rc8,Re5,Kf8,Kd2,Rc7,Kd3,Rc6,Rf5+,Rf6,Ke4,Ke7,Re5+,Re6,Kf5,Rxe5+,Kxe5,Kd7,Kd5,d3', 'cxd3,b4,Kxc5,bxa3,bxa3', 'https://lichess.org/training/oBePi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OBftU', 'Rapid', 'lucaprodan86', 1886, 'heresantos', 1795, 'e4,e5,Nf3,d6,Bc4,Be7,Nc3,Nf6,d3,Nc6,a3,Be6,Bxe6,fxe6,Bd2,O-O,Qe2,Nd4,Nxd4,exd4,Nb5,e5,a4,a6,Na3,Qd7,Nc4,Ng4,f3,Nf6,a5,Nh5,g4,Bh4+,Kd1,Nf4,Bxf4,Rxf4,Qg2,Raf8,Rf1,Qb5,Ra3,Qb4,Rb3,Qa4,Rxb7,Rxf3,Rxf3', 'Qa1+,Kd2,Qe1#', 'https://lichess.org/training/OBftU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObfzL', 'Rapid', 'riki2', 1784, 'artground', 1663, 'd4,b6,e3,Bb7,Nf3,e6,Nbd2,c5,dxc5,Bxc5,a3,Nf6,b4,Be7,Bb2,O-O,h3,Ne4,Bd3,f5,O-O,Bf6,Bxf6,Qxf6,Bxe4,fxe4,Nd4,e5,Nb5,Na6,Nb3,d5,Rc1,Rfc8,Qe2,Nc7,Nxc7,Rxc7,c4,Rac8,cxd5,Rxc1,Rxc1,Rxc1+,Nxc1,Bxd5,Qa6,Qc6,Ne2,Bc4,Qxa7,Bxe2,Qb8+,Kf7,Qxe5,Qe6,Qf4+,Ke7,Qc7+,Kf6,Qf4+,Qf5,Qd6+,Kg5,Qg3+,Kh6,Qd6+,Qg6,Qf4+,Qg5,Qd6+,g6,Qxb6,Bf3,g3,Qf5,g4,Qd5,Qf6,Qd1+,Kh2,Qh1+,Kg3,Qg2+,Kf4', 'Qh2#', 'https://lichess.org/training/ObfzL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObG4l', 'Blitz', 'Axiom_of_Choice', 2087, 'EliteWriter', 1958, 'e4,e5,f4,exf4,Nf3,g5,Nc3,g4,Ne5,Qh4+,g3,fxg3,Qxg4,Qxg4,Nxg4,d5,Ne5,Bg7,Nf3,Bxc3,bxc3,dxe4,Ne5,Nd7,Nxd7,Bxd7,Bc4,f5,hxg3,Nf6,O-O,O-O-O,d3,Ng4,Bf4,h5,Kg2,Kb8,d4,a6,d5,Bb5,Bxb5,axb5,Rfd1,Rhf8,Rab1,Kc8,Rxb5,c6,Ra5,cxd5,Ra8+,Kd7,Rxd5+,Ke7,Bg5+,Nf6,Raxd8,Rxd8,Rxf5,Rf8,Rb5,Ke6,Rxb7,Ng4,Bf4,Rc8,Rb6+,Kf5,Rb5+,Kg6,Rg5+,Kf6,Rxh5,Kf7,Rf5+,Ke6,Ra5,Rxc3,Kh3,Nf2+,Kh4,Rxc2,Re5+,Kf6,a4,Ra2,a5,Nd3,Re8', 'Rh2+,Kg4,Nf2#', 'https://lichess.org/training/ObG4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('obHNn', 'Blitz', 'Alfred108', 1614, 'Lion1357', 1930, 'e4,e5,Bc4,Nc6,a3,Bc5,Nf3,d6,h3,Nge7,Nc3,O-O,O-O,Kh8,Nd5,Nxd5,Bxd5,Ne7,Bb3,f5,exf5,Nxf5,d3,Nh4,Nxh4,Qxh4,Qe2,Bxh3,Be3,Bg4,f3,Bh5,Bxc5,dxc5,Qf2,Qg5,Bd5,c6,Be4,Rf4,Kh2,Raf8,Kh3,Bg4+,Kh2,Bxf3,Bxf3,Rh4+,Kg1,Qh6,Qg3', 'Rh1+,Kf2,Qd2#', 'https://lichess.org/training/obHNn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObHrm', 'Blitz', 'happy_robot', 2268, 'josephfussman1', 2290, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,h5,h4,O-O,d4,d5,Nc3,Nc6,Ne5,Nxe5,dxe5,Nd7,f4,c6,e4,e6,exd5,exd5,Kh2,Re8,Ne2,Nf8,Nd4,Bg4,Bf3,Bxf3,Nxf3,Ne6,c3,c5,Be3,Qd7,Ng5,Nxg5,hxg5,b6,Kg2,Rad8,Qf3,d4,cxd4,cxd4,Rad1,Qa4,Qe4,Qxa2,Bxd4,Kh7,Bc3,Rxd1,Rxd1,Rc8,Qd3,b5,f5,b4,fxg6+,fxg6,Bd4,Qd5+,Kh3,Rd8,Qe3,Qe6+,Kh2,Qg4,Rd2,Rd5,Bc3,Rxd2+,Bxd2,a5,e6,Bd4,Qf4,Qe2+,Kh1,Qd1+,Kh2', 'Qg1+,Kh3,Qh1#', 'https://lichess.org/training/ObHrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OBIQX', 'Classical', 'vnzr1oexrv4a', 1989, 'Ewgeni1935', 1954, 'd4,e6,e4,d5,e5,c5,c3,Nc6,Nf3,h6,Bd3,cxd4,cxd4,Bb4+,Nc3,Qa5,Qc2,Nge7,Be3,Nf5,Bxf5,exf5,O-O,Bxc3,bxc3,Be6,Rab1,Qa6,Qb3,Rb8,Qb5,Qxa2', 'Qxc6+,bxc6,Rxb8+,Ke7,Rxh8', 'https://lichess.org/training/OBIQX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObItx', 'Rapid', 'anantsogani', 1860, 'kentt', 1862, 'Nf3,d5,d4,Nf6,Bg5,Bf5,e3,e6,Bd3,Bxd3,cxd3,Bd6,O-O,c6,e4,dxe4,dxe4,Be7,Nc3,h6,Bh4,O-O,a3,Qc7,Rc1,a6,h3,Nbd7,d5,exd5,exd5,Rad8,dxc6,Ne5,Qe2,Nxc6,Rfd1,Rde8,Qc4,Qb6,b4,Nh7,Nd5,Qa7,Bxe7,Nxe7,Qc7,Nxd5,Rxd5,Re2,Rc2,Rfe8,Rd8', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/ObItx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OBjGl', 'Classical', 'abssi2020', 1867, 'Gaston2017', 1860, 'e4,e6,Nf3,d5,exd5,exd5,Be2,Qe7,O-O,Be6,Nd4,Nd7,Re1,O-O-O,Bg4', 'Bxg4,Rxe7,Bxd1', 'https://lichess.org/training/OBjGl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObJIG', 'Blitz', 'GM BIZOO', 2741, 'Tonne1983', 2436, 'd4,Nf6,Bg5,e6,Nd2,d5,e3,Be7,Bd3,O-O,c3,b6,Bxf6,Bxf6,f4,Ba6,Bxa6,Nxa6,Ngf3,c5,O-O,Nc7,a4,a6,Ne5,Bxe5,fxe5,cxd4,exd4,Qg5,Rf3,b5,Rg3,Qe7,a5,b4,Qg4,g6,Nf3,bxc3,bxc3,f5,exf6,Rxf6,Ne5,Nb5,h4,Raf8,h5,Rf4,Qe2,g5,h6,Kh8,Qh5,Rh4,Qxg5,Qxg5,Rxg5,Rxh6,Rg3,Rhf6', 'Nd7,R8f7,Nxf6', 'https://lichess.org/training/ObJIG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('objMd', 'Rapid', 'Mrinaldt', 1982, 'st2orm', 2009, 'e4,d6,d4,Nf6,Nc3,g6,Bd3,Bg7,Nge2,O-O,f3,e5,Be3,Nc6,Qd2,d5,O-O-O,dxe4,fxe4,Ng4,Bg5,f6,Bh4,exd4,Nd5,Be6,h3,Bxd5,hxg4,Be6,g5,fxg5,Bxg5,Bf6,Bxf6,Qxf6,Qh6,Qg7,Qh2,Nb4,a3,Nxd3+,Rxd3,c5,Nf4,Bd7,Nd5,Rf7,e5,Bf5,Nf6+,Rxf6,exf6,Qf7,Rf3,Rd8,Qh6,c4,Rxf5,gxf5,Qg5+,Qg6', 'f7+,Kxf7,Qxd8', 'https://lichess.org/training/objMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oBKnN', 'Rapid', 'Ithkan', 1796, 'TeQYemeyeUReady', 1824, 'd4,Nf6,c4,e6,Nc3,d5,e4,dxe4,Be3,Bb4,Qc2,O-O,Ne2,b5,a3,Bxc3+,Nxc3,bxc4,Bxc4,Bb7,Qb3,Bd5,O-O,Nc6,Bxd5,exd5,Rac1,Na5,Qa4,Nc4,Nxd5,Nxd5,Qxc4,Nxe3,fxe3,Rb8,Qxc7,Rxb2,Qxa7,Qg5,Rf2,Qxe3', 'Qxf7+,Rxf7,Rc8+,Rf8,Rxf8#', 'https://lichess.org/training/oBKnN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oBL65', 'Classical', 'xarax', 1631, 'psychoreaper', 1612, 'b4,d5,b5,e5,Bb2,Bd6,f4,Nd7,fxe5,Bxe5,Bxe5,Nxe5,Nf3,Qf6,c3,Ne7,e3,Bg4,Be2,Bxf3,Bxf3,Nd3+,Ke2,Ne5,Rf1,Qb6,a4,O-O,d4,Nc4,Na3,Rad8,Qb3,c5,Nxc4,dxc4,Qxc4,cxd4,cxd4,Rc8,Qd3,Rfd8,Rfc1,Qf6,Kf2,h6,Kg1,Qg5,Bxb7,Rxc1+,Rxc1,Nd5,Bxd5,Qxd5,Rc5', 'Qxc5,dxc5,Rxd3', 'https://lichess.org/training/oBL65');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Obngq', 'Rapid', 'Ahmedmaher1998', 1834, 'dwindriyanto', 1806, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,Nxe5,Nh6,d4,Bxd4,Nf3,Bg4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/Obngq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('obnSo', 'Rapid', 'monojeetdebnath', 1887, 'Homo_Deuss', 1888, 'e4,e5,Nf3,Nf6,d4,Nxe4,dxe5,Bb4+,c3,Bc5,Be3,Nc6,Bc4,d5,Bxd5,Bxe3,fxe3,Bf5,O-O,O-O,Bxe4,Bxe4,Nbd2,Bxf3,Nxf3,Qxd1,Raxd1,h6,Rd7,Rac8,b4,Rfe8,Re1,Nxe5,Nxe5,Rxe5,e4,c5,Kf2,cxb4,cxb4,Rc2+,Re2', 'Rxe2+,Kxe2,Rxe4+,Kf3,Rxb4', 'https://lichess.org/training/obnSo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObO5Q', 'Blitz', 'sharrola', 1917, 'Ct86', 1682, 'e4,c6,f4,d5,d3,dxe4,dxe4,e5,Qxd8+,Kxd8,fxe5,Nd7,Bf4,Ne7,Bc4,Ng6,Bg3,Ndxe5,Bb3,Bb4+,c3,Bd6,Nf3,Nxf3+,gxf3,Bxg3+,hxg3,Be6,Nd2,Kc7,O-O-O,a5,f4,Ne7,Bxe6,fxe6,e5,Nd5,Ne4,a4,Ng5,Rae8,Rxh7,a3,Rxg7+,Kb6,c4,Nb4,bxa3,Nxa2+,Kb2,Rh2+,Kb3,Ra8,Rdd7,Ra7,Ne4,Nc1+,Kc3', 'Rxa3+,Kb4,Rb3+,Ka4,Ra2#', 'https://lichess.org/training/ObO5Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('obOCu', 'Rapid', 'Rainis', 1654, 'tlatov', 1602, 'e4,f6,d4,e5,d5,Bc5,c4,d6,Bd2,Ne7,b4,Bd4,Nc3,O-O,Nf3,Bxc3,Bxc3,Bg4,Be2,Bh5,O-O,Bg6,Bd3,Nd7,a4,c6,Re1,b6,a5,c5,bxc5,Nxc5,axb6,axb6,Bb4', 'Rxa1,Qxa1,Nxd3', 'https://lichess.org/training/obOCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Obpng', 'Rapid', 'Stoyacov', 1689, 'GeorgiNedkov', 1697, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Re1,Bc5,c3,O-O,Bb3,d6,d4,exd4,cxd4,Bb6,d5,Ne7,Nbd2,Ng4,Re2,Re8,h3,Nf6,Qc2,c6,Nf1,Ng6,dxc6,bxc6,Ng3,Ne5,Nxe5,Rxe5,Bf4,Rc5,Qd1,Bc7,e5,dxe5,Qxd8+,Bxd8,Rxe5,Rxe5,Bxe5,Ba6,Rc1,Bb5,a4,Bd3,Rxc6,Bb6,Bxf6,gxf6,Bd5,Re8,Rxf6,Re1+,Kh2,Kg7,Rxf7+,Kg6,Rf3,Rd1,b3,Bc2,Bc4,Rd2,Nh1,Be4,Rf4', 'Bc7,g3,Bxf4', 'https://lichess.org/training/Obpng');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OBRbz', 'Rapid', 'TuanAnhPham', 1934, 'PesceFritto', 2009, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nc6,Be3,Nf6,Bc4,e6,O-O,Be7,Re1,O-O,Bg5,h6,Bxf6,Bxf6,Nf3,b5,Bb3,Bb7,a3,Ne5,Nxe5,Bxe5,Qd3,Qc7,Rad1,Rfd8,Qe3,Bxc3,bxc3,Rac8,Rd3,a5,Red1,a4,Ba2,Ba6,Qf4,e5,Qg4,Qe7,Bd5,Bb7,Bxb7,Qxb7,Rxd6,Rxd6,Rxd6,Rxc3,Rxh6,Rxc2,h3,Rc1+,Kh2,Rc4,Rd6,Qc7,Rd7,Qc8,Qf5,Qe8,f3', 'g6,Qg4,f5,Rd8,Qxd8', 'https://lichess.org/training/OBRbz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('obRLQ', 'Blitz', 'Vadim61', 1934, 'Doctor_Prawn', 1973, 'e4,h6,Nf3,g5,Bc4,Bg7,c3,d6,d4,Nc6,O-O,e5,Bb5,Bd7,a4,g4,Ne1,h5,Nd3,Nge7,a5,a6,Bc4,O-O,Bg5,Kh7,Nd2,f6,Bh4,Ng6,g3,Nxh4,gxh4,f5,Qc2,f4,d5,Ne7,f3,Ng6,Nb3,Qxh4,Qf2,Qg5,Nd2,h4,Kh1,g3,Qg2,h3,Qe2,Nh4,Nxf4,exf4,e5,Bxe5,Bd3+,Kh6,Ne4,Qg8,hxg3,fxg3,Qd2+,Kh7,Nf6+,Kh8', 'Qh6+,Qh7,Qxh7#', 'https://lichess.org/training/obRLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObshM', 'Rapid', 'toothless-__-0', 1740, 'JanChristoph', 1799, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Qb6,a4,a6,Bxc6+,bxc6,a5,Qc7,Bf4,cxd4,cxd4,c5,Nf3,cxd4,Nxd4,Bb4+,Nd2,Ne7', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/ObshM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OBSyq', 'Rapid', 'GurKar', 1900, 'LucasFractensis', 1805, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,e6,Nc3,Qa5,Bd2,d6,Bc4,Nxc3,Bxc3,Qc7,Qe2,dxe5,dxe5,Nc6,Nf3,Bb4,Bxb4,Nxb4,a3,Nc6,O-O-O,b5,Bxb5,O-O,Bxc6,Qxc6+,Kb1,Ba6,Qc2,Qb6,Ka1,Rfc8,Qd2,Rd8,Qe3,Qb7,Rxd8+,Rxd8,Rg1,Rd3,Qf4,Qb3,Nd4,Qc4,Ne2,Qc2,Nd4,Qa4,Ne2,Qc2,Nd4,Qa4,Nxe6,Rxa3+,bxa3', 'Qxa3+,Kb1,Bd3#', 'https://lichess.org/training/OBSyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OBTn1', 'Rapid', 'DarioH', 1727, 'Toni8', 1689, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,d5,exd5,exd5,Qe7+,Be2,Qb4+,Nc3,Nd4,Nf3,Nxe2,Qxe2+,Qe7,Qxe7+,Bxe7,O-O,d6,Re1,Bg4,Bg5,Kd7,Bxe7,Nxe7,Ng5,f6,Ne6,Nxd5,Nxd5,Bxe6,Nf4,Rhe8,Nxe6,Rxe6,f4,Rxe1+,Rxe1,Re8,Rd1,Re2,Rb1,Kc6,Kf1,Rc2,a3,d5,b4,b5,Re1,Kd6,Ra1,a6,a4,Rb2,axb5,axb5,Ra6+,Kc7,Ra7+,Kb6,Rxg7,Rxb4,Rxh7,Rxf4+,Ke2,b4,Rh8,Kb7,Kd3,Rc4,Rh7+,Kc6,Rh8,Kb5,Rd8,Kc5,Rc8+,Kb5,Rd8,Kc6,Rc8+,Kb5,Rd8,b3,Rxd5+,Rc5', 'Rxc5+,Kxc5,Kc3,b2,Kxb2', 'https://lichess.org/training/OBTn1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('obTQ0', 'Rapid', 'RJF_MT2017', 1855, 'adrian_bishop', 1867, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Nd5,Nxd5,exd5,O-O,c3,Bc5,d4,exd4,Nxd4,Re8+,Be2,Qe7,Be3,Bxd4,Bxd4,d6,Be3,Nd7,O-O,Nf6,Re1,b6,c4,a5,Bd4,Ba6,b3,Rad8,Bd3,Qxe1+,Qxe1,Rxe1+,Rxe1,Re8,Rd1,Nxd5,Bf5,Ne7,Re1,g6', 'Bd7,Rb8,Rxe7', 'https://lichess.org/training/obTQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('obtuI', 'Classical', 'deeznutsd', 2219, 'Yusuffismail', 2089, 'e4,c6,d4,d5,Nd2,g6,c3,Bg7,Ngf3,Bg4,h3,Bxf3,Qxf3,e5,dxe5,Bxe5,exd5,cxd5,Bb5+,Nc6,Qe3,Qe7,O-O,Nf6,Re1,Bd6,Qxe7+,Bxe7,Nb3,Kd7,Bg5,a6,Rxe7+,Kxe7,Re1+,Kd6,Bxf6,axb5,Bxh8,Rxh8,f4,f5,a3,Rf8,Nd2,d4,Nb1,h5,cxd4,Nxd4,Nc3,Rf6,Re5,Re6', 'Rd5+,Kc6,Rxd4', 'https://lichess.org/training/obtuI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('obTux', 'Rapid', 'weetbix2', 1954, 'BELJAVRACEVGAJAC', 1930, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,cxd5,exd5,Qc2,Bd6,Bg5,Nbd7,e3,Qc7,Bd3,h6,Bh4,O-O,O-O,Re8,Rfe1,b6,e4,dxe4,Nxe4,Nxe4,Bxe4,Bb7,Qb3,c5,dxc5,Nxc5,Bxb7,Nxb3,Bxa8,Rxa8,axb3,a5,Bg3,Bxg3,hxg3,Qc2,b4,Qxb2,bxa5,bxa5,Ra4,Qb3,Rea1,Qc3,g4,g5,Nd4,Re8,Nf3,Re2,Rxa5,Qb2,Rf1,Qb4,Rf5,Qxg4,Rf6,Re6,Rxe6,Qxe6,Re1,Qg6,Re8+,Kg7,Kh2,Qd6+,Kg1,f6,Ra8,Kg6,Ra5,Qd1+,Kh2,Qc2,Ra6,Qxf2,Ne5+,Kf5', 'Rxf6+,Kxf6,Ng4+,Kf5,Nxf2', 'https://lichess.org/training/obTux');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oBuD5', 'Rapid', 'jordiferrer1991', 2036, 'Lidsm', 1943, 'd4,Nf6,Bg5,g6,Bxf6,exf6,e3,d5,g3,c6,Bg2,Bd6,Ne2,Nd7,O-O,f5,Nd2,Nf6,c4,Be6,c5,Bc7,b4,O-O,a4,Ne4,b5,Qd7,Nxe4,fxe4,bxc6,bxc6,Rb1,Rab8,Qc2,Bg4,Nc3,Bf3,Rxb8,Rxb8,Rb1,Kg7,Rxb8,Bxb8,Qb2,Qc8,a5,Bc7,Qb4,Qa6,Qb3,Bg4,h3,Bc8,Qa4,Bxa5', 'Bf1,Qb7,Qxa5', 'https://lichess.org/training/oBuD5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObVd6', 'Classical', 'Fox222', 1746, 'bebaslah', 1763, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Nc3,a6,Ba4,Bxa4,Nxa4,b5,Nc5,e6,b4,Bxc5,bxc5,Qc7,d4,Ne7,O-O,O-O,Qd3,Nbc6,Ng5,Ng6,h4,h5,g3,Rad8,Bf4,e5,dxe5,Ncxe5,Bxe5,Qxe5,Rae1,Qf6,Qe2,Rfe8,Qxh5,Re5,f4,Rxe1,Rxe1,Qd4+,Kh2', 'Qf2+,Kh3,Qxe1', 'https://lichess.org/training/ObVd6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('obW3R', 'Blitz', 'Mapachereh', 1735, 'chess_fire_nature', 1795, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,d4,b5,Bb3,Na5,dxe5,Nxb3,cxb3,Bb7,Nc3,dxe5,Qxd8+,Rxd8,Nxe5,Nf6,f3,Bc5,Bd2,O-O,O-O-O,b4,Na4,Bd6,Nc4,Be7,Bf4,c5,Nab6,Rfe8,h4,h5,Na5,Nxe4,Rxd8,Bxd8,fxe4,Bxe4,Nac4,Bxg2,Rg1,Bf3,Nd7,Bxh4,Nde5,Bf2,Nxf3', 'Bxg1,Nxg1,Re1+,Kd2,Rxg1', 'https://lichess.org/training/obW3R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OBwQX', 'Rapid', 'burulka', 1952, 'Grundf3ldGr0yper', 1996, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,Nf3,g6,Bf4,Bg7,exd6,cxd6,Nc3,O-O,Qd2,N8d7,Bh6,Nf6,Bxg7,Kxg7,Be2,Bd7,Rc1,Rc8,b3,e6,O-O,Bc6,Rfd1,Ne4,Nxe4,Bxe4,Ng5,Bc6,Bg4,Qf6,Bf3,Bxf3,Nxf3,Nd7,Ng5,b6,Ne4,Qe7,Qf4,d5,Nd6,Rc6,Nb7,Nf6,cxd5,Rxc1,Rxc1,Qxb7,dxe6,Rc8,Rxc8,Qxc8,exf7,Kxf7,h3,Kg7,Qe5,Qe8,Qc7+,Qd7,Qe5,Kf7,Kf1,Qe7,Qf4,Qd7,Ke2,Qb5+,Ke3,Qe8+,Kd3,Qb5+,Ke3,Ke6,Qh4,h5,Qg3,Nd5+,Kd2,Qe8', 'Qe5+,Kf7,Qxd5+', 'https://lichess.org/training/OBwQX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('obx6G', 'Blitz', 'Sturek', 1914, 'woczak', 2060, 'd4,Nf6,Bg5,g6,Bxf6,exf6,e3,Bg7,Ne2,O-O,Nf4,d5,h4,h5,c4,dxc4,Bxc4,Kh7,Nc3,Nc6,a3,a6,Qc2,Bf5,Bd3,Bxd3,Qxd3,Kh6,O-O-O,Qd7,g4,hxg4,h5,g5', 'Qg6+,fxg6,hxg6#', 'https://lichess.org/training/obx6G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('obXDZ', 'Rapid', 'Phillip1310', 2000, 'NSG3098_Be', 2058, 'e4,c5,c3,d5,exd5,Qxd5,Nf3,Nc6,d4,Bf5,Be2,cxd4,cxd4,Bxb1,Rxb1,e6,O-O,Bd6,b4,Nf6,b5,Ne7,Ne5,Qxa2,Rb3,Qa5,Bd2,Qc7,Rc3,Qd8,Bf3,Nfd5,Rc1,O-O,Qb3,Nf5,Qd3,Bxe5,dxe5,Qb8,Bc3,Rd8,Rfd1,h6,Bb2,a5,bxa6,bxa6,Ba1,a5,Rc5,Nfe7,Bd4,Ra7,Rb5,Rb7,Rxb7,Qxb7,Bc5,Nf5,Be4,Qc7,g4,Nh4,Bd6,Qa7,Bxd5,exd5,Qxd5,a4,Rb1,a3', 'Rb7,Qxb7,Qxb7', 'https://lichess.org/training/obXDZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OBXfZ', 'Rapid', 'thelordofthekings', 1906, 'ValentinPro', 1937, 'e4,e5,Nf3,Qf6,d3,Bc5,Be2,a6,c3,h6,O-O,d6,b4,Bb6,a4,Ne7,Be3,Ba7,h3,Ng6,d4,Nf4,Bc4,Nc6,b5,axb5,axb5,Ne7,dxe5,Nxh3+,gxh3,Qg6+,Kh2,b6,Nh4,Qxe4,exd6,cxd6,Qd4,Qxd4,Bxd4,Bb7,Bxg7,Rg8,Bf6,Ng6,Re1+,Kf8,Nf5,Ne5,Bxe5,dxe5,Rxe5', 'Bb8,Rxa8,Bxa8', 'https://lichess.org/training/OBXfZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObxYf', 'Blitz', 'Angryman57', 1781, 'Kamsky16', 1791, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,c3,Bg4,Bg5,c6,Nbd2,Nbd7,Qc2,Qc7,h3,Bh5,Rfe1,Rae8,Kf1,Bf4,Bxf4,Qxf4,Rxe8,Rxe8,Re1,Rxe1+,Kxe1,Bg6,Bxg6,hxg6,Qd3,a6,Qe3,Qf5,Ne5,Nxe5,Qxe5,Qc2,Qb8+,Kh7,Qxb7,Qc1+,Ke2,Ne4,Nxe4,dxe4,Qxf7,Qc2+,Ke3,Qd3+,Kf4,Qe2,f3,e3,g4,Qf2,Kg5,Qc2,Qe6,e2,f4,Qd3,h4,e1=Q,Qxe1,Qb5+,Qe5,Qxb2,h5,gxh5,Kxh5', 'Qh2+,Kg5,Qh6+,Kf5,Qg6#', 'https://lichess.org/training/ObxYf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oBXyY', 'Rapid', 'baldrof', 1997, 'tipusultan07', 2015, 'e4,e5,c3,Nf6,d3,Nc6,Bg5,Be7,Bxf6,Bxf6,d4,exd4,cxd4,Bxd4,Bb5,Bxb2,Nd2,Bxa1,Qxa1,O-O,Ngf3,d5,Bxc6,bxc6,e5,Ba6,Qd4,Qe7,h4,f6,h5,fxe5,Nxe5,Rae8,f4,c5,Qxd5+,Kh8,g3,Rb8,Kf2,Bb7', 'Ng6+,hxg6,hxg6+,Qh4,Rxh4#', 'https://lichess.org/training/oBXyY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObYcX', 'Bullet', 'dindorax', 1525, 'kursaal2', 1546, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Bd3,dxc4,Bxc4,Nbd7,Nge2,c6,O-O,Nd5,Bxe7,Qxe7,Bd3,Nxc3,Nxc3,e5,Qc2,h6,Rfe1,exd4,exd4,Qf6,Rad1,Nb6,Ne4,Qxd4,Nd6,Qf6,Nxc8,Raxc8,Bf5,Rcd8,Rxd8,Rxd8,Qe4,Nd5', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/ObYcX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ObYJx', 'Rapid', 'Alex_1987', 2303, 'kulje', 2168, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,Bg4,d5,Nd4,c3,Nxf3+,gxf3,Bd7,f4,Qh4,Qf3,Bg4,Bb5+,c6,dxc6,Bxf3', 'cxb7+,Ke7,bxa8=Q', 'https://lichess.org/training/ObYJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oc11v', 'Rapid', 'MediumToast2', 1681, 'neiderbp', 1851, 'e4,e5,Bc4,Nf6,Nc3,Bb4,Nge2,Nc6,d3,Nd4,Bd2,Nxe2,Qxe2,d6,Nd5,Bxd2+,Qxd2,c6,Nc3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O-O,d4,Ne4,Rc8,Kb1,Nd5,c4,Nb6,Qg5,O-O,Nf6+,Kh8,Nxd7,Nxd7,Rhe1,f6,Qh5,Nb6,f4,Nxc4,dxc4,Rxc4,fxe5,fxe5,Rxe5,d3,Re7,Rcf4,Qh6,Rf1,Rxf1,Rxf1+,Re1', 'Rxe1+,Qc1,d2', 'https://lichess.org/training/oc11v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oc2uF', 'Rapid', 'wj-silva', 1569, 'VP_Rebkovets_1934', 1536, 'd4,e6,Nf3,h6,c3,b6,Bf4,Bb7,Nbd2,Be7,e4,Nf6,Bd3,d6,O-O,O-O,Rc1,Nh7,Qa4,a6,Bb1,b5,Qc2,Bg5,e5,g6,Nxg5,Nxg5,f3,Kg7,h4,Nh7,h5,Ng5,hxg6,f5,exf6+,Qxf6,Bxg5,Qxg5,Ne4,Qf5,Ng3,Qxc2,Bxc2,Nd7,Nh5+,Kg8,b4,Nf6,g7,Rf7,Nf4,Re8,Rce1,Rfe7,Bb3,Kxg7,Nxe6+,Kh7,Bc2+,Kh8,Bf5,Bc8,Bg6,Rxe6,Bxe8,Rxe8,Rxe8+,Nxe8,Re1,Bd7', 'Re7,Nf6,Rf7,Nd5,Rxd7', 'https://lichess.org/training/oc2uF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oc3DP', 'Rapid', 'tozkoparan', 1939, 'Reza_p', 1844, 'e4,d5,e5,e6,d4,c5,Nf3,Nc6,Be2,g6,Nc3,Bg7,Bb5,a6,Bxc6+,bxc6,dxc5,Qa5,Qd4,Ne7,O-O,Nf5,Qf4,Qxc5,Ne2,O-O,b4,Qxc2,Ned4,Qc4,Nxf5,Qxf4', 'Ne7+,Kh8,Bxf4', 'https://lichess.org/training/Oc3DP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oc3WR', 'Blitz', 'Igoridze', 1668, 'Trickser_Rgbg', 1678, 'e4,e5,Bc4,Nc6,a3,Bc5,Nf3,Nf6,d3,d6,h3,h6,Nc3,a6,O-O,O-O,Be3,Ba7,Nd5,Nxd5,Bxd5,Ne7,Bb3,Ng6,Bxa7,Rxa7,Nh2,Qf6,Ng4,Qg5,Kh1,Nf4,Qf3,Be6,Rad1,Bxb3,cxb3,f5,exf5,Rxf5,Rg1,c6,d4,Ra8,b4,Raf8,dxe5,dxe5,Qe4,h5,Ne3,Ne2,Qc4+,Kh8,Qxe2,Rxf2,Qd3,Qh4,b3,R2f3,Rdf1', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/oc3WR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oC44a', 'Blitz', 'FM kofte', 2392, 'IM AsanovTimur', 2320, 'd4,Nf6,c4,d6,Nc3,e5,Bg5,Nbd7,e3,Be7,Bd3,O-O,Nf3,Re8,dxe5,dxe5,Bc2,c6,O-O,Qc7,Ne4,Nxe4,Bxe4,Nf6,Bxf6,Bxf6,Qc2,g6,Rad1,Be6,b3,Bg7,Ng5,Bd7,c5,h6,Nxf7,Kxf7,Bxg6+,Kg8,Bxe8,Rxe8,Qd3,Be6,Qe4,Rf8,Rd6,Bd5,Qg4,Qc8,Qg3,Kh8,Rd1,e4,Rg6,Qd7,Qh4,Qf7,Rg4,a5,Rf4,Qe8,Rg4,Qf7,Rf4,Qg8,Qe7,Rxf4,exf4,Qf8,Qxb7,Qxc5,Qc8+,Bg8,h3,e3,fxe3,Qxe3+,Kh1,Qxf4,Qxc6,Be5,g3,Qe3,Qg2,Bxg3,Qb2+,Be5,Qg2,Be6,Rd8+,Kh7,Rd1,Qxh3+,Qxh3,Bxh3,Rd5,Bc3', 'Rd3,Bb4,Rxh3', 'https://lichess.org/training/oC44a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oc5Q5', 'Blitz', 'penullar', 1966, 'Aklp', 2018, 'd4,Nf6,f3,d5,e4,dxe4,Nc3,Bf5,Bc4,h6,fxe4,Bxe4,Nxe4,Nxe4,Nf3,e6,O-O,Bd6,Bd3,Nf6,Qe1,O-O,Qh4,Nbd7,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/Oc5Q5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OC9Mz', 'Rapid', 'Ali7044', 2062, 'Snake-Mark', 2019, 'e4,e5,Nf3,f5,d3,fxe4,dxe4,Nf6,Nc3,Nc6,Bc4,d6,O-O,Bg4,h3,Bh5,Bg5,Qd7,Bxf6,gxf6,Nxe5,Bxd1,Nxd7,Kxd7,Raxd1,Bg7,f4,Rhg8,Bxg8,Rxg8,a3,Ne7,Rfe1,Ng6,Rf1,Bh6,Ne2,Re8,Rd4,b5,b4,Kc6,Kh1,Bg7,c4,a6,cxb5+,axb5,Rc1+,Kb6,Nc3,Nxf4,Nd5+,Nxd5,exd5,f5,Rd3,f4,Rc6+,Kb7,Rd2,Re1+,Kh2,Be5,Rdc2,f3+,g3,Re2+,Rxe2', 'fxe2,Rc1,Bc3', 'https://lichess.org/training/OC9Mz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oCai6', 'Blitz', 'akbar99', 1989, 'A-kamangir', 1858, 'e4,e5,d4,exd4,Nf3,d6,Bc4,Nf6,c3,dxc3,Nxc3,Be7,O-O,O-O,Re1,c6,Qb3,h6,Bf4,b5,Bd3,Be6,Qc2,Nbd7,h3,b4,Ne2,c5,Bh2,Qc7,b3,Rac8,Rac1,Ne5,Ba6,Rcd8,Nd2,Bc8,Bb5,Bb7,f3,d5,exd5,Nxd5,Nc4,Bf6,Ng3,Ng6,Ne4,Ngf4,Nxf6+,Nxf6,Qf5,N6d5,Ne3,g5,Bc4,Bc8', 'Nxd5,Bxf5,Nxc7', 'https://lichess.org/training/oCai6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OCanM', 'Bullet', 'adrianjedrez', 1562, 'mohamedabdelhalek72', 1542, 'e4,e5,f4,d6,Nf3,Bg4,Bc4,Nf6,fxe5,dxe5,Nc3,Nc6,O-O,Nd4,d3,Bxf3,gxf3,Bd6,Bg5,O-O,Ne2,Nxf3+,Rxf3,Qd7,Kf2,Bc5+,Ke1,Qg4,Bxf6,Qxf3,Bxe5,Qf2+,Kd2,Be3+,Kc3,Rfe8,Bd4,Bxd4+,Nxd4,c5,Nf5,g6,Nd6,Qd4+,Kd2,Qxd6,Qf3,Qxh2+,Kc3,Qc7,Rf1,Rf8,Rh1,a6,Qh3,h5,Rg1,b5', 'Rxg6+,Kh7,Qxh5#', 'https://lichess.org/training/OCanM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OcASs', 'Blitz', 'fabian1965', 1986, 'rafaelaflorit', 1949, 'd4,Nf6,Bf4,g6,e3,Bg7,Be2,d6,h3,Nbd7,Nf3,b6,Nbd2,Bb7,c3,O-O,O-O,Re8,Rc1,Bxf3,Nxf3,e5,dxe5,dxe5,Bh2,e4,Nd4,a5,Qb3,Nc5,Qd1,Qd7,Bb5,Qe7,b4,Nd3,Bxd3,exd3,Qxd3,axb4,cxb4,Red8,Rxc7,Qxb4,Rb1,Qa4,Bg3,Nd5,Rbc1,Nxc7,Rxc7,Qxa2,Qe4,Qa1+,Kh2,Bxd4,Qe7,Bf6', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/OcASs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ocbnd', 'Blitz', 'shotbythought', 1945, 'Dritonjashari', 1982, 'e4,d5,d4,dxe4,f3,exf3,Nxf3,c6,Bc4,e6,O-O,b5,Bb3,a5,a4,b4,Ne5,Nf6,Bg5,Bd6,Qf3,Ba6,Nxc6,Nxc6,Qxc6+,Kf8,Rf2,h6,Bh4,g5,Bg3,Bxg3,hxg3,Ng4,Rxf7+,Kxf7', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/ocbnd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ocbRt', 'Bullet', 'brig_7', 1717, 'krson', 1724, 'e4,d6,f4,b6,Nf3,Bb7,e5,dxe5,fxe5,e6,d4,c5,c3,cxd4,cxd4,Nc6,Bb5,a6,Ba4,b5,Bb3,Nge7,O-O,Nd5,Ng5,Be7,Nxf7,Qb6,Nxh8,Nxd4,Kh1,Nf5,Qh5+,g6,Qxh7,Rc8,Qf7+,Kd7,Bg5,Qd8,Nxg6,Kc6,Bxe7,Ndxe7,Qxe6+,Kc7,Nxe7,Nxe7,Rc1+,Kb8,Na3,b4,Nc4,Bd5,Qb6+,Bb7,Qxd8,Rxd8,Na5,Be4,Rd1,Rg8,Rg1,Nf5,Be6', 'Ng3+,hxg3,Rh8+,Bh3,Rxh3#', 'https://lichess.org/training/ocbRt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oCD5e', 'Rapid', 'eze33', 1621, 'coolkid-75', 1712, 'e3,c6,Nf3,d5,c4,Nf6,a3,Bg4,Be2,e6,cxd5,cxd5,Bb5+,Nc6,d4,Qa5+,Nc3,Bd6,Bxc6+,bxc6,O-O,O-O,Nb1,Rab8,Nbd2,Rfe8,Qc2,Rec8,Ng5,Bf5,e4,dxe4,Ndxe4,Nxe4,Nxe4,Qd5,f3,Qxd4+,Kh1,Qe5,g3,Bxe4,fxe4,Qb5,Qf2,Rf8,a4,Qc4,Qf3,Rb4,Bd2,Rxa4', 'b3,Rxa1,bxc4,Rxf1+,Qxf1', 'https://lichess.org/training/oCD5e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oCEm9', 'Blitz', 'Pr505', 1680, 'SFERANT1122', 1749, 'e4,e6,Nf3,d5,exd5,exd5,d4,c6,Nc3,Bd6,Bg5,f6,Bh4,Bg4,h3,Bh5,g4,Bg6,Bd3,Bxd3,Qxd3,Ne7,O-O-O,O-O,Rde1,Qc7,Re2,Bf4+,Kb1,Ng6,Rhe1,Nd7,Nd1,Nb6,b3,a5,Ne3,a4,Nf5,axb3,cxb3,Nd7,Bg3,Qa5,Bxf4,Nxf4,Ne7+,Kh8,Qf5,Nxe2,Rxe2,Qc3,h4,Rfd8,g5,Nf8,gxf6,g6,Qe5,Qxf3', 'f7+,Qf6,Qxf6#', 'https://lichess.org/training/oCEm9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oCfgF', 'Rapid', 'JP_CHAMP', 2067, 'jebela', 2034, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nc6,c3,Bd6,Ne2,Nge7,Bf4,O-O,O-O,Re8,Nd2,Ng6,Bg3,a6,Re1,Be6,Qc2,Qf6,Bxd6,cxd6,Nf3,Re7,Ng3,Rae8', 'Nh5,Qxf3,gxf3', 'https://lichess.org/training/oCfgF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ocg3l', 'Rapid', 'FM BillyBigMan', 2521, 'oxchess', 2104, 'Nf3,d5,b3,c6,Bb2,Nf6,e3,Bg4,h3,Bh5,Be2,Nbd7,O-O,e6,c4,Bd6,Nc3,O-O,d4,Qe7,Ne5,Bxe2,Nxe2,Rac8,Rc1,Rfd8,c5,Bc7,Nf4,Nxe5,dxe5,Nd7,Nd3,f6,exf6,Nxf6,Be5,Ne4,Qg4,Re8,f3,Nf6,Qg3,Bxe5,Nxe5,Nd7,b4,Nxe5,Qxe5,Qf6,Qxf6,gxf6,g4,Kg7,Rc3,e5,Ra3,a6,Kf2,Rcd8,Rd1,Kg6,Rb3,Rd7,a4,Rc8,Kg3,h5,Rd2,hxg4,hxg4,Rh7,Rh2,Rxh2,Kxh2,Kg5,Kg3,f5,f4+,exf4+,exf4+,Kf6,g5+,Kf7,Re3,Re8', 'g6+,Kf8,g7+,Kxg7,Rxe8', 'https://lichess.org/training/ocg3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oCgyP', 'Rapid', 'Kabukim', 2146, 'keramik4', 2172, 'e4,c5,Nf3,g6,c3,d5,exd5,Qxd5,Bb5+,Nc6,Bxc6+,Qxc6,O-O,Bg4,h3,Bxf3,Qxf3,Qxf3,gxf3,Nf6,d3,O-O-O,Rd1,Bg7,Be3,b6,Na3,Rd7,d4,cxd4,Rxd4,Rhd8,Rad1,e5,Rxd7,Rxd7,Rxd7,Kxd7,Nc4,Nd5,Kg2,f5,Bd2,b5,Ne3,Nf4+,Kh2,Nd3,Nd1,Kc6,Kg2,Bf8,Kf1,f4,Ke2,Nc5,b3,Ne6,Kf1,Ba3,Kg2,Nc5,Kf1,Ne6,Kg2,a5,h4,Be7,Kh3,Nc5,Nb2,Kd5,Kg4,h5+,Kh3,Ke6,b4,axb4,cxb4,Na4,Nd3,Kd5,Nc1,Nb6,Nb3,Nc4,Bc3,e4,fxe4+,Kxe4,Nd4,Kd3,Nxb5,Ke2,Bd4,Bxb4,a4,Kf3,Nc3', 'Bxc3,Bxc3,Kxf2', 'https://lichess.org/training/oCgyP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OcH5T', 'Blitz', 'Empyreal_craciun', 1742, 'chessmate1105', 1617, 'c4,e6,e4,d5,cxd5,exd5,exd5,Qxd5,Nf3,Qd8,Bc4,Be7,Qb3,Nh6,d4,O-O,Bxh6,gxh6,O-O,Nc6,Ne5,Nxe5,dxe5,Qd4,e6,Bxe6,Bxe6,fxe6,Qxe6+,Rf7,Nc3,Re8,Qxh6,Ref8,Qe6,Kh8,Rad1,Rxf2,Rxf2', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/OcH5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OciBs', 'Rapid', 'jokerav', 1614, 'nandini29', 1652, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,a3,cxd4,cxd4,Nf5,b4,a6,Bb2,Be7,Be2,O-O,O-O,b5,Nbd2,Qb6,Nb3,Bd7,Nc5,Qc7,Qd2,a5,Bd3,axb4,axb4,Bxc5,bxc5,Na5,Qc2,Rac8,Rfb1,Nc4,Bxf5,exf5,Nd2,Nxd2,Qxd2,Be6,Bc1,Rb8,Qg5,Qd8,Qg3,Re8,Bh6,g6,Bd2,Kg7,Ra5,Bd7,Qd3,Qh4,Raxb5,Bxb5,Rxb5,Rxb5,Qxb5,Qxd4,Qb4,Qxb4,Bxb4,Rxe5', 'Bc3,Kf8,Bxe5', 'https://lichess.org/training/OciBs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ocj41', 'Blitz', 'pytokland', 2162, 'stevevandervalk', 2149, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Be7,O-O,Nf6,d3,O-O,c3,Bg4,Qe1,Bxf3,Rxf3,d5,exd5,Nxd5,fxe5,Nb6,Bb5,Qd5,Bxc6,Qxc6,Bf4,Rad8,d4,Nd5,Nd2,Rfe8,Ne4,f5,Ng5,h6,Nh3,Qb6,Qg3,Nxf4,Nxf4,Qxb2,Raf1,c5,Nh5,Bf8,Nf6+,Kh8,Nxe8,Rxe8,Rxf5,Be7,Qg6,Rg8,Rf7,Bg5,Rxg7,Rxg7', 'Rf8+,Rg8,Qxg8#', 'https://lichess.org/training/Ocj41');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OCKaN', 'Rapid', 'Asamir5', 1789, 'Hanno_Houmes', 1796, 'b3,c5,Bb2,e6,g3,d6,d4,cxd4,Qxd4,Nc6,Qc4,d5,Qb5,a6,Qd3,Nf6,Bg2,Be7,Nf3,O-O,Ng5,Nb4,Qc3,h6,Nh3,Bd7,a3,Rc8,axb4,Rxc3,Bxc3,Qb6,O-O,Bb5,Bf3,Nd7,Nf4,Bf6,Bxf6,Nxf6,Nc3,Bd7,b5,Rc8,bxa6,bxa6,Na4,Qb7,Nd3,Bxa4,Rxa4,Rxc2,Rfa1,Ne4,Rxa6,Nc3,Nf4,e5,Ra8+,Kh7,R1a7,Qxb3,Nxd5,Nxd5', 'Be4+,f5,Bxf5#', 'https://lichess.org/training/OCKaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ockKw', 'Classical', 'chesskonda', 1793, 'Mahmood39934', 1808, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Ne7,O-O,c6,Re1,Kd6,Bxd5,cxd5,d4,e4,Qf4+,Kc6,b4,Ng6,b5+,Kb6,Qf7,Ne7,a4,a5,Bf4,Ka7,Rab1,b6,Be5,Bb7,Bxg7,Bxg7,Qxg7,Nf5,Qe5,Rf8,Ne2,Rc8,c3,Qd6,Rbc1,Qxe5,dxe5,Rce8,Nd4,Rxe5,Nc6+,Bxc6,bxc6,Rc8,g4,Ne7,f4,Re6,f5,Rexc6,Re3,Rc4,Rd1,Rxc3,Rxc3,Rxc3,f6,Ng6,Rxd5,Rc1+,Kf2,Rc2+,Ke3,Rc3+,Kxe4,Rc4+,Kf5,Rxa4', 'Rd7+,Ka6,Rxh7', 'https://lichess.org/training/ockKw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ocKpk', 'Rapid', 'Waltherus', 1792, 'marvinKsa', 1789, 'e4,c5,f4,Nc6,g3,e6,d3,d5,Bg2,Nf6,Nc3,dxe4,Nxe4,Nxe4,Bxe4,Be7,b3,Qd4,Rb1,f5,Bxc6+,bxc6,Bb2,Qe3+,Qe2,Qxe2+,Kxe2,O-O,Nf3,Bf6,Be5,Bd7,Bd6,Rfe8,Bxc5,a5,a4,e5,fxe5,Bxe5,Kd2,Bf6,Rhe1,Re6,Rxe6,Bxe6,Re1,Bd5,Nd4,Bg5+,Kd1,Rd8,Nxf5,Bf3+,Re2,Bxe2+,Kxe2,Re8+,Kf1', 'Re5,Nd6,Rxc5', 'https://lichess.org/training/ocKpk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oCl8v', 'Blitz', 'Elvaronnocturno', 2052, 'Retisangil', 2026, 'e4,c5,c3,Nf6,e5,Nd5,Bc4,Nb6,Bb3,d5,d4,cxd4,cxd4,Bf5,Nc3,e6,Nf3,Nc6,O-O,Bb4,Bg5,f6,exf6,gxf6,Be3,O-O,h3,Kh8,Nh4,Ne7,Nxf5,Nxf5,Qh5,Rg8,Rac1,Rg6,a4,a6,Bc2,Qg8,Bxf5,Rxg2+,Kh1,exf5,Qxf5,Bd6,Bf4,Bxf4,Qxf6+,Qg7,Qxf4,Rg8,a5,Nc4,Nxd5,Nd2,Qxd2', 'Rh2+,Kxh2,Qg2#', 'https://lichess.org/training/oCl8v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ocNaA', 'Blitz', 'treebranching', 1655, 'aahmetayas', 1654, 'e4,e5,Nf3,d5,Nc3,Nf6,d3,Ng4,exd5,Nxf2,Kxf2,Bc5+,Ke1,O-O,Ne4,Bb6,Qe2,f5,Nc3,e4,dxe4,fxe4,Nxe4,Re8,Nfd2,Qh4+,g3,Qd8,Qh5,Ba5,Bd3,c6,Kd1,cxd5,Nf6+,gxf6,Qxh7+,Kf8,Nb3', 'Bg4+,Be2,Bxe2#', 'https://lichess.org/training/ocNaA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OcoIy', 'Rapid', 'wenjian', 1676, 'kuyruk123', 1660, 'e4,e5,f4,Nc6,Nf3,Be7,Bb5,Bh4+,g3,Be7,Bxc6,dxc6,Nxe5,Bh3,Qh5,Be6,f5,g6,fxg6,fxg6,Nxg6,Bf7,Qe5,Bxg6,Qxh8,Kf8,Qc3,Bf6,Rf1,Qe7,d3,Re8,Bg5,Bxe4,Kd1', 'Bf3+,Rxf3,Qe2+,Kc1,Qxf3', 'https://lichess.org/training/OcoIy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ocq8M', 'Classical', 'Konyuhh', 1887, 'musicmademedense', 2123, 'g3,g6,Nf3,Bg7,Bg2,d6,O-O,e5,d3,Nc6,Nc3,Nge7,Bg5,O-O,e4,h6,Be3,f5,exf5,gxf5,Qc1,Be6,Nh4,Rf6,Bf3,Bf7,Be2,d5,Na4,d4,Bd2,Qd5,b3,b5,Nb2,a6,c4,Qd6,f4,e4,dxe4,fxe4,cxb5,axb5,Bxb5,e3,Be1,Bd5,Bc4,Bxc4,Qxc4+,Qd5,Qxd5+,Nxd5,Nd3,Rff8,a3,Rfb8,Bb4,Ncxb4,Nxb4,Nxb4,axb4,Rxa1,Rxa1,d3,Rb1,d2,Kf1,Rxb4,Ke2,Bd4,Nf5,Kh7,Nxe3', 'Bxe3,Kxe3,Rxb3+,Rxb3,d1=Q', 'https://lichess.org/training/Ocq8M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oCQNC', 'Rapid', 'Ikre', 1911, 'CrazyNightHenry', 2266, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Nf3,Nbd7,Bd3,dxc4,Bxc4,a6,a4,c5,O-O,Be7,b3,b6,Bb2,Bb7,Rc1,O-O,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,Nf6,Qg5,Qd5', 'Bxf6,Qxg5,Bxg5', 'https://lichess.org/training/oCQNC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ocRYR', 'Rapid', 'Fpavlosh', 1760, 'topo6', 1834, 'e4,e5,f4,exf4,Nf3,d6,d4,Be6,d5,Bg4,Bxf4,Bxf3,Qxf3,Be7,Bd3,Nf6,O-O,Nbd7,Nc3,O-O,e5,Nxe5,Bxe5,dxe5,Rae1,Bd6,Qh3,h6,Qf5,Qe7,Kh1,Rad8,Ne4,c6', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/ocRYR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OCRZf', 'Blitz', 'FM EleKtRoMaGnIt', 2727, 'rafael1938', 2745, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,gxf6,Nf3,b6,g3,Bb7,Bg2,Nd7,O-O,c5,Re1,Be7,b3,cxd4,Nxd4,Bxg2,Kxg2,Qc7,c4,Qb7+,Qf3,Qxf3+,Kxf3,Ne5+,Kg2,O-O-O,Nb5,Kb7,Be3,Bb4,Red1,a6,Nd4,Rd7,Ne2,Rhd8,Rxd7+,Rxd7,Bd4,Be7,Bc3,Nc6,Kf1,f5,Ke1,Bc5,Nf4,a5,Ke2,Nd4+,Bxd4,Rxd4,Nd3,Bd6,Rd1,Kc6', 'Nb4+,Bxb4,Rxd4', 'https://lichess.org/training/OCRZf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ocsZY', 'Rapid', 'BaboDaniel', 1771, 'tm-mshs', 1863, 'd4,Nf6,c4,e6,Nf3,b6,e3,Bb7,Be2,Be7,O-O,O-O,Nc3,c5,d5,exd5,cxd5,d6,e4,Nbd7,Bg5,h6,Bh4,a6,Re1,b5,a3,b4,axb4,cxb4,Na2,a5,Bb5,Nc5,Bxf6,Bxf6,Rb1,Ba6,Bc6,Rb8,Nc1,Bb5,Bxb5,Rxb5,Nd3,Re8,Nxc5,Rxc5,b3,Bc3,Re2,Rc7,Qd3,Rce7,Rd1,Qb6,Kf1,Ra7,Nd2,Bxd2,Rdxd2,a4,bxa4,Rxa4,Qb3,Ra3,Qb1,Rea8,Ra2,b3,Rxa3,Rxa3,Rb2,Qb5+,Ke1,Qb4+,Kd1,Qd4+,Rd2,Qa1,Qxa1', 'Rxa1+,Ke2,Ra2', 'https://lichess.org/training/ocsZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OCt5N', 'Rapid', 'LordMwangi', 1998, 'ferrucciolari', 1945, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,b3,Bc5,Bb2,Ne4,d4,Nc6,Nf3,Bb4+,Nbd2,Qf6,Qe2,O-O-O,Qxe4,Rhe8,O-O-O,Bf5,Qh4,Qg6,d5,Be7,Qg3,Qh6,dxc6,Bb4,cxb7+,Kb8,Qg5,Qxg5,Nxg5', 'Bxd2+,Rxd2,Re1+,Rd1,Rexd1#', 'https://lichess.org/training/OCt5N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OCu58', 'Rapid', 'LightShadow', 1902, 'constancero', 1993, 'g3,e5,Bg2,d5,d3,Nf6,c3,Nc6,Nf3,Be7,O-O,O-O,Re1,h6,e4,dxe4,dxe4,Qxd1,Rxd1,Nxe4,Ne1,Bf5,Be3,Bc5', 'Bxe4,Bxe4,Bxc5', 'https://lichess.org/training/OCu58');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ocugz', 'Blitz', 'lidenbrook', 2382, 'IM littleplotkin', 2398, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd3,b6,Nf3,Bb7,O-O,d5,cxd5,Nxd5,Ne2,c5,a3,Ba5,Qc2,h6,dxc5,bxc5,Rd1,Qf6,Ng3,Nd7,Bd2,Bxd2,Rxd2,Rac8,Rad1,N7b6,Ne4,Qe7,Bc4,Rfd8,Ba2,c4,Ng3,c3,bxc3,Rxc3,Qb2,Qxa3,Qxa3,Rxa3,e4,a5,exd5,Bxd5,Bxd5,Rxd5,Rxd5,Nxd5,Nd4,a4,Ne4,Ra2,Kf1,a3,Nb5,g5,g3,Kg7,Ke1,Kg6,Rd3,Ra1+,Rd1', 'Rxd1+,Kxd1,a2', 'https://lichess.org/training/ocugz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oCvuB', 'Rapid', 'AguilaJC', 2184, 'randomchampgamer', 2190, 'd4,Nf6,Bg5,Ne4,Bh4,g5,f3,gxh4,fxe4,Bg7,e3,e5,Bc4,Qg5,Qf3,d5,Bxd5,Rf8,Nh3,Bxh3,Qxh3,Nc6,c3,exd4,exd4', 'Qc1+,Ke2,Qxh1', 'https://lichess.org/training/oCvuB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ocwn5', 'Blitz', 'ikantek', 1993, 'CM salemyahi', 1917, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,h3,O-O,Be3,Nc6,Qd2,b6,Bh6,Bb7,Bxg7,Kxg7,Bd3,e5,d5,Ne7,g4,c5,O-O-O,a6,Rdg1,b5,h4,c4,h5,cxd3,hxg6,fxg6,Qh6+,Kf7', 'Ng5+,Ke8,Ne6', 'https://lichess.org/training/Ocwn5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oCy1k', 'Rapid', 'david862007', 1654, 'MURILA', 1669, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,Nc6,Bb5,Bd7,O-O,e6,Bg5,h6,Bxf6,Qxf6,Bxc6,Bxc6,Ne5,Bb4,Qd3,O-O,a3,Bd6,b4,Bxe5,dxe5,Qxe5,Rfe1,Qg5,b5,Bd7,a4,Rac8,Rab1,Qf6,Nd1,Rfd8,Ne3,Rc3', 'Ng4,Rxd3,Nxf6+,gxf6,cxd3', 'https://lichess.org/training/oCy1k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OCZxi', 'Blitz', 'R0KON', 1580, 'LORDXAR', 1515, 'e3,Nf6,b3,g6,Bb2,Bg7,Nf3,O-O,h3,d6,Nh2,e5,Ng4,Nxg4,hxg4,f5,Be2,Qf6,Nc3,fxg4,Ne4,Qf7,Bxg4,Bxg4,Qxg4,d5,Qh4,h5,O-O-O,dxe4,g4,Nc6,gxh5,gxh5,Rdg1,Rae8,Qxe4,Qxf2,Qg6,Re7,Kb1,Qxd2,Rxh5,Qxe3,Qh7+,Kf7,Rxg7+,Ke8,Qg6+,Kd8,Rxe7', 'Rf1+,Bc1,Qxc1#', 'https://lichess.org/training/OCZxi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ocZXl', 'Rapid', 'mostafa_yasser99', 1695, 'AymanAlawneh', 1662, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,e6,d3,Nf6,h3,Be7,Be2,O-O,O-O,c6,Bg5,b5,Nh2,Bb7,f4,Nbd7,Qe1,Nc5,Qg3,b4,Nd1,Qd4+,Kh1,Nh5,Qg4,Bxg5,fxg5,g6,Qxd4', 'Ng3+,Kg1,Nxe2+', 'https://lichess.org/training/ocZXl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('od0QE', 'Rapid', 'armadorlar', 1815, 'OttoWachterSS', 1667, 'e4,e5,Nf3,d6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qh5+,Ke6,Nc3,c6,d3,g6,Qg4+,Kd6,Qf3,Be6,Ne4+,Kc7,Nc5,Kd6', 'Nxb7+,Kc7,Nxd8', 'https://lichess.org/training/od0QE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oD2mP', 'Rapid', 'montarbo', 1603, 'denden_gra', 1646, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Ne5,Bb5,a6,Bd3,Bc5,Nb3,Nxd3+,Qxd3,Ba7,Be3,b6,N1d2,Bb7,Nc4,Nf6,Nd6+,Ke7,Nxb7,Qc7,e5,Ng4,Qd6+,Qxd6,exd6+,Kf6,Bd4+,e5,Bc3,b5,O-O-O,Ke6,N3c5+,Kf5,Rhf1,Nxh2,Rh1,Ng4,f3,Nf2,Rh5+,Kg6,Rxe5,Nxd1,Kxd1,f6,Re7,Rhc8,Nxd7,Bf2,Be1,Bd4,c3,Bg1,Ke2,Re8,Kf1,Bh2,Na5,Bxd6,Rxe8,Rxe8,Nb7,Bc7,Nbc5,Re3,Nxa6,Bf4,Nac5,h5,Nf8+,Kf7,Nfd7,Bd6,Ne4,Rd3,Nec5,Rd1,a4,bxa4,Nxa4', 'Bg3,Ke2,Rxe1+', 'https://lichess.org/training/oD2mP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('od55o', 'Rapid', 'HamHockJinn', 2052, 'chiefwhales', 2038, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,Be7,g3,c5,Bg2,Nc6,O-O,O-O,Re1,Re8,e5,Nd7,Nf1,Qc7,Qe2,b6,h4,Bb7,Bf4,Rac8,N1h2,Nd4,Nxd4,cxd4,Rac1,Bb4,Rf1,Ba6,Nf3,Bc5,Ng5,h6,Nh3,Nf8,h5,Be7,Qg4,Kh7,Rfe1,Qd8,Bd2,Rc7,Qxd4,Qd7,Qf4,Bd8,Re3,Bg5,Nxg5+,hxg5,Qxg5,Qe7,Qg4,Rec8,c3,b5,a3,f6,d4,Rc4,Bf1,R4c7,exf6,Qxf6,Bd3+,Kh8,Rf3,Qe7,Kg2,e5,dxe5,Bb7,Qd4,Rc4,Bxc4,Rxc4,Qxa7,d4,cxd4', 'Bxf3+,Kxf3,Qxa7', 'https://lichess.org/training/od55o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('od5oO', 'Blitz', 'boban77', 1815, 'morte69', 1851, 'e4,c5,f4,Nc6,Nf3,e6,Be2,d5,e5,Nge7,O-O,Nf5,b3,Be7,Bb2,O-O,Bd3,Nh6,h3,f5,Be2,b6,d4,Bb7,Nbd2,Rc8,c3,Kh8,Kh2,g6,Ba3,Rg8,b4,cxd4,cxd4,Nxb4,Bxb4,Bxb4,Rb1,Be7,Qa4,g5,Qxa7,g4,Ng1,gxh3,g3,Bc6,Qxb6,Qf8,Rfc1,Qg7,Nf1,Bh4,Rb3,Ba4,Rbc3,Bxg3+,Nxg3,Ng4+,Bxg4,Qxg4,Rxc8', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/od5oO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OD7vz', 'Rapid', 'MIL_GER', 1705, 'Lohengrin06', 1753, 'Nf3,d6,d4,e6,e4,b6,g3,Bb7,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,Bg2,Nc6,d5,exd5,exd5,Qe7+,Ne2,Nb4,Rb1,Nxd5,O-O,O-O,c4,Nb4,a3,Nc6,Re1,Ne5,Nxe5,Bxg2,Kxg2,Bxe5,Nf4,Qg5,Nh3,Qf6,f4,Bxb2,Qb3,Bd4,Rbd1,Bc5,Rd5,Rfe8,Rxe8+,Rxe8,Rd2,Re3,Qd1,Qe6,Rd3,Qxc4,Rxe3,Bxe3,Qe1,Qc2+,Kf3,Qb3,Qxe3,Qxe3+,Kxe3,f6,Nf2,Kf7,Kd4,Ke6,Nd3,c5+,Kc4,d5+,Kc3,Kf5,Nf2,b5,Kd3,a5,Kc3,d4+,Kd3,Ke6,a4,b4,Kc4,Kd6,Kb5,b3,Nd1,Kd5,Kxa5,c4,Kb4,d3,a5,Kd4,a6,c3,a7', 'c2,Nb2,c1=Q,a8=Q,Qxb2', 'https://lichess.org/training/OD7vz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OD7zc', 'Classical', 'nicmor', 1869, 'leonxlin', 1873, 'c4,e5,Nc3,Nf6,g3,Bc5,Bg2,c6,Nf3,d6,O-O,Be6,d3,O-O,Qc2,a6,a3,Nbd7,e3,d5,cxd5,cxd5,Nd2,Rc8,Qb1,b5,b4,Ba7,Bb2,Nb6,Rd1,Qd7,Ne2,Qd6,Nf3,Nbd7,Ng5,Bf5,e4,Bg4,Rd2,Qb6,d4,Nxe4,Bxe4,dxe4,Qxe4,f5', 'Qd5+,Kh8,Qxd7', 'https://lichess.org/training/OD7zc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('odA16', 'Rapid', 'R_ook2_D2', 2249, 'toniiiiiiiiii', 2367, 'c4,c6,d4,d5,Nf3,Nf6,Nc3,e6,Bg5,Be7,e3,O-O,Qc2,Nbd7,Rd1,a6,c5,b6,b4,a5,a3,axb4,axb4,bxc5,bxc5,Qa5,Bd3,Ba6,O-O,h6,Bh4,Rfb8,Ra1', 'Bxd3,Rxa5,Bxc2,Rxa8,Rxa8', 'https://lichess.org/training/odA16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OdB0M', 'Blitz', 'edicat', 1548, 'Lupos59', 1514, 'g3,e5,a3,d5,Bg2,Nf6,e3,c5,d3,Be7,Bd2,O-O,Ne2,Bg4,Bh3,Bxh3,f4,exf4,Nxf4,Bg4,Qc1,Nc6,Nc3,d4,Ne4,Nxe4,dxe4,Bf3,Rf1,Bxe4,c4,Ne5,exd4,cxd4,Qd1,Bg5,h4,Bxf4,gxf4,Nd3+,Ke2,Qxh4,Be1,Qh2+,Bf2,Rfe8,Kd2,Nxf4,Kc1,Qh6,Qd2,Nd3+,Kd1,Qh5+,Kc2,Nxf2+,Kb3,a5,Qxf2,b5,Qxd4,bxc4+,Ka2,Bd5,Qc3,Rab8,Rab1,Rb3,Qd4,a4,Rg1,f6,Rg4,Kh8,Rbg1,Rg8,Rh4,Qe2', 'Rxh7+,Kxh7,Qh4+,Qh5,Qxh5#', 'https://lichess.org/training/OdB0M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OdBnX', 'Rapid', 'balck_pawn', 1836, 'siddheshh', 1855, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,h6,h3,Bf5,d4,e6,O-O,Bd6,Nh4,Bh7,Ne2,O-O,c3,Ne4,Bd3,Qxh4,Bxe4,Qxe4,Ng3,Qh4,Qf3,Nc6,Re1,Rab8,Ne4,Ne7,Nxd6,cxd6,Bf4,Nf5,g4,Ne7,Bxd6,Rbd8,Ba3,b6,d5,Rfe8,dxe6,fxe6,Rxe6,Nc8,Rae1,Rxe6,Rxe6,Qg5,Kg2,h5,Qc6,hxg4', 'Re8+,Kf7,Qe6#', 'https://lichess.org/training/OdBnX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ODD9s', 'Rapid', 'igor051158', 2017, 'thaiminhdang2004', 1802, 'e4,c5,Nf3,d6,c4,Nc6,Nc3,g6,d4,cxd4,Nxd4,Bd7,Nb3,Bg7,Be2,Nf6,O-O,O-O,Be3,b6,Rc1,Bc8,f4,Bb7,Bf3,h5,e5,dxe5,fxe5,Ng4,Bxg4,hxg4,e6,f5,Nd5,Bxb2,Rc2,Bg7,Rd2,Qc8,Bg5,Qxe6,Re1,Ne5,Nxe7+,Kh7,Nd4,Qxc4,Rc2,Qxd4+,Qxd4,Nf3+,gxf3,Bxd4+,Be3,Bxe3+,Rxe3,Bxf3,Rc7,Kh6,Kf2,Rfd8,h3,Rd2+,Kg3,Rg2+,Kf4,Be4,hxg4,Rxg4+,Ke5,Bg2,Nxf5+,gxf5,Kxf5,Ra4', 'Re6+,Kh5,Rh7#', 'https://lichess.org/training/ODD9s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ODdSD', 'Blitz', 'odoaker2015', 1904, 'absolut3000', 1901, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,d4,Be7,Bc4+,Be6,Qe2,Re8,O-O,Bxc4,Qxc4+,Kf8,Nc3,Nc6,f4,Na5,Qa4,c5,e5,Nd7,Nd5,Nc6,Qc4,cxd4,c3,dxc3,bxc3,Nb6,Nxb6,Qxb6+,Kh1,Rac8,Qe6,Rcd8,Ba3,d5,Bxe7+,Rxe7,Qf5+,Rf7,Qxh7,Qe3,Qh4,Qxc3,Rae1,Re8,e6,Rf6,f5,Kg8,g4,Nd4,Qh5,Re7,Rc1,Qd3,Rc8+,Rf8', 'Rxf8+,Kxf8,Qh8#', 'https://lichess.org/training/ODdSD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oDfVm', 'Rapid', 'ABGudi', 1868, 'CapitanCaveman', 1799, 'e4,e6,d4,d5,e5,c5,Qg4,cxd4,Nf3,Nc6,Bd3,h5,Qg3,Nb4,O-O,Nxd3,cxd3,Qb6,Nbd2,Bd7,Nb3,O-O-O,Nfxd4,Ba4,Be3,Qa6,Nc5,Qa5,Nxa4,Qxa4,Rfc1+,Kb8,Qg5,Qd7,a4,f6,exf6,gxf6,Qg3+,Bd6,Bf4,e5,Nb5,exf4,Qf3,Qg4,Qxd5,Ne7,Qd4,Rhg8', 'Qxa7#', 'https://lichess.org/training/oDfVm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('odg5z', 'Rapid', 'cherck', 1778, 'neverplaying', 1810, 'd4,d5,c4,e5,dxe5,d4,a3,c5,e3,Nc6,exd4,Qxd4,Qxd4,Nxd4,Bd3', 'Nb3,Be3,Nxa1', 'https://lichess.org/training/odg5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ODGKS', 'Rapid', 'Damela1977877', 1681, 'pacendrix', 1719, 'e4,d5,exd5,e5,Nc3,c6,dxc6,Nxc6,d3,Bb4,Bd2,Nge7,Nf3,f5,Be2,O-O,Nh4,Bxc3,Bxc3,Nd5,g3,Nxc3,bxc3,Qa5,O-O,f4,Bf3,fxg3,fxg3,Bh3,Re1,Qxc3,Bd5+,Kh8,Re4,Rf1+,Qxf1,Bxf1', 'Ng6+,hxg6,Rh4#', 'https://lichess.org/training/ODGKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OdH80', 'Rapid', 'lapski', 1861, 'Mark2_alias', 1971, 'e4,c6,Nc3,d5,exd5,cxd5,Bb5+,Nc6,Qf3,Nf6,Nh3,e6,O-O,a6,Ba4,b5,Bb3,Bb7,Ne2,Na5,d4,Nxb3,axb3,Qc7,c3,Bd6,Bf4,Ne4,Rfd1,O-O,Qd3,h6,f3,Nf6,Qe3,Rfe8,Bxh6,gxh6,Qxh6,Nh7,Rd3,Bf8,Qh4,Bg7,f4,Qe7,Qf2,Qf6,Rg3,Kf8,Ng5,Nxg5,Rxg5,Ke7,Ng3,Rg8,Re1,Kd7,Nh5,Qh6,Nxg7,Rxg7,Rxg7,Qxg7,f5,Re8,f6,Qg6,Rf1,Rg8,Qf3,Qe4,Qh3,Qg4,Qxg4,Rxg4,Re1,Rf4,Rf1,Rxf1+,Kxf1,Ke8,h4,Kf8,g4,Kg8,h5,a5,Kf2,a4,b4,Bc8,Kf3,e5,dxe5,Be6,g5,Kh7,Ke3,Bg4,Kd4,Bxh5,Kxd5,Kg6,e6,fxe6+,Kxe6,Kxg5', 'f7,Bxf7+,Kxf7,Kf5,Ke7', 'https://lichess.org/training/OdH80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oDhnC', 'Blitz', 'StonedMaster', 2211, 'Buckokokos', 2018, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,a3,a5,Be2,Ngxe5,Nxe5,Nxe5,Nc3,O-O,Bd2,c6,b4,axb4,axb4,Rxa1,Qxa1,Bxb4,Ne4,Bxd2+,Nxd2,d6,O-O,Qf6,Ne4,Qg6,f3,f5,Nf2,Be6,c5,Nf7,Rb1,Bc8,cxd6,Qxd6,Bc4,b5,Rd1,Qc7,Ba2,Kh8,Qc3,c5,Nd3,c4,Nb4,Qa5,Rd5,Be6,Rc5,Rd8,Kf2,h6,Bb1,Nd6,g4,fxg4,Qc2,Bg8,Nc6,Qb6,Rh5,Qxc6', 'Rxh6+,gxh6,Qc3#', 'https://lichess.org/training/oDhnC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oDhOO', 'Rapid', 'emilnedisan', 1715, 'NaotoMatsui', 1991, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,Nxc6,Bb5,Qc7,Qf3,Bg4,Qg3,Qd7,Nf3,h6,Ne5,Qe6,O-O,Nh5,Qxg4,Qxe5,Bxc6+,bxc6,d4,Qa5,Bd2,Nf6,Qf3,Qa6,b4,Rc8,d5,cxd5,Nxd5,Nxd5,Qxd5,e6,Qd3,Qxd3,cxd3,Bd6,Rac1,Rb8,a3,O-O,g3,Rfd8,Rc6,Be5,Ra6,Rxd3,Be3,Ra8,Rxa7,Rxa7,Bxa7,Rxa3,Bc5,Rb3,Rc1,Rc3,Rxc3,Bxc3,b5,Be5,b6,f5,b7,Bb8,Kf1,Kf7,Ke2,Ke8,Kd3,Kd7,Bf8,Be5,f4,Bb8,Bxg7,h5,Be5,Bxe5,fxe5,Kc7,Kc4,Kxb7,Kc5,Kc7,h3,Kd7,Kb6', 'h4,gxh4,f4', 'https://lichess.org/training/oDhOO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Odigf', 'Rapid', 'Jamiljamor', 1721, 'Yaroslav_Syzran', 1762, 'Nf3,d5,g3,c5,Bg2,e5,d3,Bd6,e4,Ne7,O-O,Be6,Re1,Nbc6,Ng5,Qd7,exd5,Bxd5,Nf3,O-O,Nc3,Nd4,Nxd5,Nxd5,c3,Nxf3+,Bxf3,Nb6,b3,Rfe8,Bg2,f5,d4,Re7,dxc5,Bxc5,Qxd7,Nxd7,Bxb7,Rd8,Bg5,Nf6,Red1', 'Rxd1+,Rxd1,Rxb7,Bxf6,gxf6', 'https://lichess.org/training/Odigf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('odiYF', 'Bullet', 'radensantos', 1996, 'farzadmasaliam', 2027, 'b4,e5,Bb2,f6,a3,d5,e3,c5,d4,cxd4,exd4,exd4,Bxd4,Nc6,Bb5,Bd7,Nf3,Nxd4,Bxd7+,Qxd7,Nxd4,Bd6,Qe2+,Ne7,O-O,O-O,Qe6+,Qxe6,Nxe6,Rfc8,Ra2,Kf7,Nd4,a5,b5,Bc5,Nf3,b6,Nbd2,Re8,Nb3,Rac8,h3,h5,Nbd4,g5,Rd1,g4,hxg4,hxg4,Nh4,Rh8,g3,Rh5,Kg2,Re5,c3,Re4,Nhf5,Bxd4,Nd6+,Ke6,Nxc8,Bxc3,Nxe7,Kxe7,Rxd5,Bd4,Rd2,Bc5,Rd7+,Ke6,Rb7,Re1,a4,Ra1,Re2+,Kf5,Rc7,Rxa4,Rc6,Rb4,Rc2,Rxb5,Ra2,Rb3,Ra4,Rb2,Rf4+,Kg5', 'Rcxf6,Rxf2+,Rxf2,Bxf2,Rxf2', 'https://lichess.org/training/odiYF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('odj2h', 'Classical', 'datadweller', 1935, 'Dumoreto', 1931, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,e5,Qa5+,c3,Qxe5+,Be3,Nc6,Nf3,Qc7,Bd3,d5,Qd2,Ne5,Nxe5,Qxe5,O-O,Bd6,f4,Qh5,Be2,Qg6,Bd3,Ne4,Bxe4,Qxe4,Qe2,Bc5', 'Qb5+,Bd7,Qxc5,b6,Qd4', 'https://lichess.org/training/odj2h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ODKw8', 'Rapid', 'JimbrosBURRITOS', 1606, 'carljk', 1628, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,h6,Bh4,g5,Bg3,a6,e3,c5,f3,cxd4,exd4,Nc6,Bd3,Bb4,Be5,O-O,Ne2,b6,O-O,Bb7,a3,Bxc3,bxc3,Nxe5,dxe5,Nh5,cxd5,Qxd5,Rb1,g4,Rxb6', 'Qc5+,Nd4,Qxb6', 'https://lichess.org/training/ODKw8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oDLPO', 'Rapid', 'Satyaprakash1', 1817, 'Wverbhalz', 1839, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Ne7,Nc3,a6,Bc4,Ng6,O-O,b5,Bb3,Bb7,a4,b4,Na2,Bxe4,Qe1,Bb7,Nxb4,Nc6,Nbxc6,dxc6,Nxe6,fxe6,Bxe6,Be7,Bf5,c5,Bg5,Qd5', 'Bxg6+', 'https://lichess.org/training/oDLPO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oDmbV', 'Rapid', 'Jijxar', 1874, 'golo79', 1830, 'e4,c5,Bc4,Nc6,Nf3,d6,O-O,e6,Nc3,Nf6,Re1,Be7,d3,a6,a4,O-O,Bg5,e5,h3,h6,Bh4,Nh5,Bxe7,Qxe7,Nd5,Qd8,Nxe5,dxe5,Qxh5,Nd4,Qd1,Qg5,Re3,Kh8,c3,Nc6,Nb6,Rb8,Rg3,Qf6,Nd5,Qd8,Qh5,Be6,a5,Bxd5,exd5,Ne7,Qxe5,Ng6,Qe3,Qd6,Bb3,f5,c4,f4,Qe6', 'Qxe6,dxe6,fxg3', 'https://lichess.org/training/oDmbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OdNEv', 'Rapid', 'ILikeChess04', 1700, 'zguner61', 1724, 'e4,Nc6,Nf3,e5,Bb5,Nge7,O-O,d5,Nxe5,Qd6,d4,dxe4,Bf4,Bd7,g3,Qb4,Bxc6,Bxc6,Nxc6,Nxc6,Bc1,Nxd4', 'c3,Nf3+,Qxf3,exf3,cxb4', 'https://lichess.org/training/OdNEv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('odo3q', 'Classical', 'JPG87', 1659, 'harley2', 1659, 'd4,d5,Bf4,e6,e3,c5,c3,Nc6,Nf3,Qb6,Qc2,Nf6,Nbd2,cxd4,exd4,Be7,Bd3,Bd7,Ne5,Nxe5,Bxe5,Bb5,Bxb5+,Qxb5,a4,Qc6,O-O,O-O,Nf3,Ng4,Bf4,Bd6,Ng5,g6,Bxd6,Qxd6,Nf3,h5,h3,Nf6,Ne5,Ne4,f3,Nf6,Nxg6,fxg6,Qxg6+,Kh8,Qh6+,Kg8,Qg6+,Kh8,Qh6+,Nh7,Qxh5,Rg8,Qe5+,Qxe5,dxe5,Raf8,g4,Ng5,Kg2,Rf7,Rf2,Rgf8,Raf1,Rf4,h4,Nf7,Kg3,Nxe5,a5,a6,b4,Nc4,Re2,e5,Ref2,d4,cxd4,exd4,Rd1,Ne5,Rdf1,Nc6,Rb1,d3,h5,Nxb4,Rc1,R8f7,Rc8+,Kh7,Rd8,Nc6,Rd5,Nd4,g5,Nxf3', 'g6+,Kh6,gxf7', 'https://lichess.org/training/odo3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oDoBs', 'Blitz', 'Dillala', 1606, 'Chap089', 1626, 'e4,e6,d4,d5,exd5,exd5,Nc3,c6,Bd3,Bd6,Be3,Ne7,Nge2,Bf5,O-O,Qc7,Ng3,Bxd3,Qxd3,O-O,Rae1,Ng6,Nce2,Nd7,c4,Bb4,Nc3,dxc4,Qxc4,Ba5,Bd2,Bb6,Na4,Rad8,Nxb6,Nxb6,Qc5,Rd5,Qc3,Rfd8,Be3,Nf4,Ne2,Nxe2+,Rxe2,Nd7,Rfe1,Nf6,f3,Rh5,g3,Nd5,Bf4,Qd7,Qa5,Nxf4', 'Qxd8+,Qxd8,Re8+,Qxe8,Rxe8#', 'https://lichess.org/training/oDoBs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Odoen', 'Rapid', 'rezabakhtiari', 1833, 'Notforschmocks', 1847, 'd4,d5,Bf4,Nc6,Nf3,Bf5,e3,e6,Bb5,Nf6,Ne5,Rb8,Bxc6+,bxc6,Nxc6,Qc8,Nxb8,Qxb8,b3,Ne4,O-O,g5,Be5,f6,Bg3,h5,Nd2,h4,Nxe4,dxe4,c4,hxg3,fxg3,c6,g4,Bg6,Rxf6,Qxh2+,Kf2,Qh4+,Ke2,Qxg4+,Kd2,Qxg2+,Kc1,Bf5,d5,Bg7,Rxe6+,Bxe6,dxe6,Ke7', 'Qd7+,Kf6,Qf7+,Ke5,Qxg7+', 'https://lichess.org/training/Odoen');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OdopM', 'Rapid', 'v2s', 1604, 'Khaanx', 1646, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,a3,Bc5,b4,Bb6,a4,O-O,a5,Bd4,c3,Bxc3+,Nxc3,Nxb4,Ba3,c5,Na4,d6,O-O,Bd7,Bxb4,cxb4,a6', 'b5,Bxb5,Bxb5', 'https://lichess.org/training/OdopM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Odp2W', 'Classical', 'KelvinMangoma57', 1685, 'Naya12', 1685, 'e4,e5,Nf3,Qf6,c3,Bc5,d4,exd4,cxd4,Bb6,Bc4,d6,Nc3,Bg4,Ne2,Nd7,Bg5,Qg6,Qb3,Bxf3,Qxf3,Ngf6,Bxf6,Nxf6,e5,dxe5,dxe5,Nh5,O-O,O-O,Bd3,Qh6,Ng3,Nxg3,Qxg3,Qe6,Rfe1,Rae8,Re4,Qd5,Rae1,Ba5,Bc4,Qd7,R1e2', 'Qd1+,Re1,Bxe1', 'https://lichess.org/training/Odp2W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OdpC4', 'Rapid', 'AyeWin', 1666, 'KonoAndrewDa', 1633, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Bd3,d6,h3,e5,Nf3,a6,a3,Be7,Nc3,Be6,Be3,O-O,O-O,Qc7,Nh2,d5,Bg5,dxe4,Bxf6,exd3,Bxe7,Nxe7,Qxd3,Rad8,Qf3,Nd5,Nxd5,Bxd5,Qe3,Rfe8,c3,Re6,Ng4,Rg6,Qxe5', 'Qxe5,Nxe5,Rxg2+', 'https://lichess.org/training/OdpC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('odPOv', 'Rapid', 'appang', 1768, 'Interprovincial', 1758, 'e4,e5,f4,exf4,d4,Qh4+,Ke2,Nc6,Nf3,Qg4,h3,Qg3,Nc3,Bb4,Nd5,Ba5,Bxf4,Qg6,Ke3,Nf6,Nxf6+,Qxf6,e5,Qe7,d5,Bb6+,Ke4,f5+,Kd3,Nb4+,Kc4,O-O,a3,Na6,d6,cxd6,exd6,Qe4+,Nd4,Bxd4,Qxd4,b5+,Kc3,Qc6+,Kd2,Nc5,c4,Ne4+,Ke3,Re8,Be5,Nxd6,cxb5,Nxb5,Bc4+,Kh8,Bxb5,Qxb5,Kf4,Kg8,Bxg7', 'Re4+,Qxe4,fxe4', 'https://lichess.org/training/odPOv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oDpyr', 'Rapid', 'ayhandonmez', 1701, 'MateIsComming', 1691, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Bg5,Rb8,b3,h6,Bh4,g5,Bg3,Bb4+,Nd2,Nxe4,O-O,Nxd2,Re1,e4,f3,Rb7,fxe4,O-O,Re2,Nxc4,bxc4,Bc3,Rb1,Rxb1,Qxb1,Ba6,Qb3,Qb6+,Bf2,Qxb3,cxb3,d5,exd5,cxd5,Rc2,d4,Kf1,Re8,Rc1,Bb7,a3,Re4,Rd1,f5,b4,f4,b5,g4,c5,f3,c6,Bc8,gxf3,gxf3,Rd3,Bh3+,Kg1,Kf8', 'Rxf3+,Ke7,Rxh3', 'https://lichess.org/training/oDpyr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oDPZ2', 'Rapid', 'Eldesconocidopopular', 1899, 'Moncho_Nunez', 1888, 'e4,c5,Bc4,e6,Nc3,a6,a3,Qc7,d3,Nc6,Nge2,Nf6,Bf4,d6,h3,Be7,O-O,b5,Ba2,Bb7,Bh2,O-O,f4,Rad8,f5,Bc8,fxe6,Bxe6,Nf4,Nd4,Nce2,Nxe2+,Qxe2,Bxa2,Rxa2,Nd7', 'Nd5,Qb7,Nxe7+', 'https://lichess.org/training/oDPZ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oDQ1D', 'Blitz', 'Swordsworn', 1545, 'MarianStancoci', 1529, 'e4,e6,Nf3,d5,exd5,exd5,d4,c6,Nc3,Nf6,Bg5,Qa5,Bd3,Ne4,Ne5,f6,Bd2,Nxd2,Kxd2,fxe5,Re1,e4,Qh5+,g6,Qe5+,Be7,Qxh8+,Kd7,Qxh7,Qb4,Be2,Na6,Bg4+,Kc7,a3,Qd6,Nxe4,dxe4,Bxc8,Rxc8,Rxe4,Re8,Rae1,Kd7,Qh3+,Kd8,c4,Nc7,c5,Qd7,Qxd7+,Kxd7,f4,Nd5,Kd3,Nf6,Re6,Nd5,g3,g5,fxg5,Rh8,h4,Rf8,g6,Rg8,h5,Rf8,h6,Rf3+,Kc4', 'b5+,cxb6,Nxb6#', 'https://lichess.org/training/oDQ1D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('odQ2M', 'Blitz', 'NM adil-tkachev', 2387, 'Muerto2014', 2418, 'Nf3,Nf6,d4,g6,c4,Bg7,Nc3,O-O,e4,d6,Be2,Nbd7,O-O,e5,d5,Nc5,Qc2,a5,Rb1,Nh5,Ne1,Nf4,Nd3,Ncxd3,Bxd3,Qh4,Bxf4,exf4,Nb5,f3,Rfe1,f5,exf5,Qg4,g3,Bxf5,Bxf5,Rxf5,Qd3,Raf8,Re4,Rf4,Rxf4,Rxf4,Re1,Rxc4,Qe3,h5,Qe6+,Kh7,Qxg4,hxg4,h3,gxh3,Kh2,Rc2,Kxh3,Rxf2,Nxc7,Be5,Rg1,Rxb2,Ne6,Kh6,Rf1,f2,Kg2,Rxa2', 'Rh1#', 'https://lichess.org/training/odQ2M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OdRjz', 'Bullet', 'Francisquinha', 2068, 'krejton', 1959, 'e4,e6,e5,d5,exd6,Bxd6,g3,c5,Bg2,Nf6,Ne2,O-O,O-O,Qc7,d3,Bd7,Nd2,Bc6,Nc4,Bxg2,Kxg2,Nc6,Nxd6,Qxd6,Nc3,Nd5,Ne4,Qe7,c3,Rfd8,Qe2,Rd7,Bg5,f6,Bc1,e5,Be3,Nxe3+,Qxe3,b6,f4,Rad8,Nf2,exf4,Qxf4,Ne5,Rfe1,Qd6,Rad1,Nxd3,Nxd3,Qxf4,gxf4,Rxd3,Rxd3,Rxd3,Re7,Rd2+,Kg3,Rxb2,Rxa7,Rc2,Rb7,Rxc3+,Kg4,Ra3,Rxb6,Rxa2,h4,Rc2,Kf5,c4,h5,c3,Rc6,Rc1,Rc7,c2,h6,gxh6', 'Kxf6,Re1,Rc8+,Re8,Rxe8#', 'https://lichess.org/training/OdRjz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oDsuN', 'Classical', 'Vity_SH', 1677, 'king877', 1708, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,e5,Qg6,c3,b6,Bd3,Qxg2', 'Be4,Qh3,Bxa8', 'https://lichess.org/training/oDsuN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ODSxb', 'Rapid', 'oblachko22', 1689, 'ndalatando', 1626, 'd4,d5,c4,Nc6,Nf3,Bg4,Nbd2,e6,g3,Bb4,cxd5,Qxd5,Bg2,Bxf3,Bxf3,Qxd4,O-O,O-O-O,e3,Qd3,Bxc6,bxc6,Qa4,Bxd2,Rd1,Qe2,Bxd2,Rxd2,Re1,Qb5,Qxa7,Rxb2,Red1,Qb7,Qa3,Ne7,Qxe7,Kb8,Qxf7,g6,Qxe6,c5,Rd7,Rf8,Rf7,Rxf2,Rxf8+,Rxf8,Qe5,Qf3,Qxc5,Qf2+,Kh1,Qf3+,Kg1,Rf7,Rb1+,Kc8,Qa7,Qc6,Rb8+,Kd7,Qd4+,Ke6,Re8+', 'Qxe8,Qe4+,Kd7', 'https://lichess.org/training/ODSxb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oDSxJ', 'Rapid', 'SlavMorality', 1638, 'oufc1893', 1623, 'e4,d5,exd5,Nf6,Nc3,e6,dxe6,Bxe6,Nf3,Bc5,d4,Bb6,Bb5+,c6,Ba4,Bg4,O-O,Bxd4,Re1+,Kf8,Ne4,Nxe4,Rxe4,Bxf2+,Kxf2,Qxd1,Rxg4,Qd7,Rd4,Qc7,Bf4,Qb6,Re1,Na6,Bd6+,Kg8,Re7,h6,c3,c5,Rd2,c4+,Ke1,Rd8,Be5,Rxd2,Nxd2,Qg1+,Nf1,Qc5,Re8+,Kh7', 'Bc2+,f5,Bxf5+,g6,Rxh8#', 'https://lichess.org/training/oDSxJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ODtTL', 'Blitz', 'Jawarnehgaming', 2105, 'mdcoolily', 1988, 'g3,d5,Bg2,Nf6,e3,g6,Ne2,Bg7,O-O,O-O,d4,c5,c3,Nc6,b3,cxd4,cxd4,e5,dxe5,Nxe5,Bb2,Re8,Nbc3,Be6,Nf4,Nc6,Nfxd5,Bxd5,Nxd5,Nxd5,Bxg7,Nxe3,fxe3,Kxg7,Bxc6,bxc6,Qf3,Qe7,Qxc6,Qxe3+,Rf2,Qe6,Qxe6,Rxe6,Rc1,Rae8,Rc7,R8e7,Rfc2,Kf6,Rf2+,Kg7,Rfc2,Kf6,Rxe7,Rxe7,b4,Rb7,a3,Ke6,Kf2,f5,h4,Kd6,Kf3,Rc7,Rxc7,Kxc7,b5,Kb6,Kf4,Kxb5', 'Kg5,Kc5,Kh6,Kd6,Kxh7', 'https://lichess.org/training/ODtTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OdVju', 'Rapid', 'Maharnav', 2030, 'Laulauzo', 2053, 'd4,Nf6,Bf4,d6,Nc3,g6,e4,Bg7,Qd2,h6,O-O-O,c6,h4,Be6,f3,Nbd7,d5,cxd5,exd5,Bf5,g4,e5,gxf5,exf4,fxg6,fxg6,Re1+,Kf7,Qxf4,Qb6,Bd3,Ne5,Nh3,Rhe8,Ng5+,hxg5,hxg5,Nxd3+,cxd3,Rxe1+,Rxe1,Rh8,gxf6', 'Bh6,Qxh6,Rxh6', 'https://lichess.org/training/OdVju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OdvST', 'Blitz', 'yibis473', 1684, 'Favorite_7', 1646, 'b3,e5,Bb2,d6,d4,Nd7,dxe5,d5,Nc3,c6,e4,Nxe5,exd5,cxd5,Nxd5,Qa5+,Nc3,Nf6,Bb5+,Bd7,Qe2,Bd6,Bxd7+,Nxd7,O-O-O,Qc7,Nd5,Qc6,Nf3,O-O,Nxe5,Nxe5,Bxe5,Rfe8,f4,f6,Ne7+,Rxe7,Rxd6', 'Qxd6,Qc4+,Qe6,Qxe6+,Rxe6', 'https://lichess.org/training/OdvST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('odvxG', 'Rapid', 'yonel', 1939, 'giuseppet7', 1948, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,a3,Bd6,c5,Be7,e3,a5,Bd3,O-O,O-O,b6,Na4,bxc5,Nxc5,Bxc5,dxc5,Ba6,Nd4,Bxd3,Nxc6,Qe8,Qxd3,Qxc6,Qd4,Rab8,b4,axb4,axb4,Ne4,f3,Nf6,Bd2,Rb7,Rfb1,Nd7,Bc3,e5,Qd3,Qe6,Ra6,Nxc5,Rxe6,Nxd3,Re7,Rfb8,Rd1,Nxb4,Bxb4,Rxb4,Rxc7,g6,Rxd5,Rb2,Rdd7,Rb1+,Kf2,R8b2+,Kg3,Rg1,f4,e4,f5,g5,Rxf7', 'Rgxg2+,Kh3,Rxh2+,Kg4,Rbg2#', 'https://lichess.org/training/odvxG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OdWpw', 'Classical', 'Jimhana', 1624, 'remba014', 1608, 'e4,d6,d4,Nf6,Nc3,c6,Nf3,Bg4,Bc4,d5,exd5,Nxd5,Nxd5,cxd5,Bb5+,Nc6,Be3', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/OdWpw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ODX7o', 'Rapid', 'mjk5393', 1984, 'buryatia', 1943, 'd4,d5,Bf4,e6,e3,Bd7,Nf3,Nc6,c3,Nf6,Bd3,Nh5,Bg3,Nxg3,hxg3,h6,Nbd2,Bd6,Qb3,Na5,Qc2,b5,b4,Nc4,Nxc4,bxc4,Be2,a5,Qb2,axb4,cxb4,Ra4,a3,Qa8,Ne5,Bxb4+,Kf1,Bxa3,Qc2,Bb5,e4,c6,exd5,cxd5,Rb1,Rb4,Ra1,Rb2', 'Qxb2,Bxb2,Rxa8+', 'https://lichess.org/training/ODX7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OdxET', 'Blitz', 'CM AAponte', 2323, 'leplusfaible', 2342, 'd4,Nf6,Nf3,d5,c4,c6,cxd5,cxd5,Nc3,Nc6,Bf4,a6,e3,Bg4,Be2,Bxf3,Bxf3,e6,O-O,Bd6,Bxd6,Qxd6,Rc1,O-O,a3,b5,Nb1,Na5,Rc5,Nd7,b4,Nc4,a4,Nxc5,bxc5,Qc7,axb5,axb5,Nc3,b4,Nxd5,exd5,Bxd5,Nb2,Qb3,Rad8,Bf3,Nd3,Qxd3,Qxc5,Qxh7+,Kxh7,dxc5,b3,Rb1,Rb8,c6,b2,Kf1,Kg6,Ke2,Kf6,Kd2,Rb6,Kc2,Rd8,Rxb2,Rxb2+,Kxb2,Ke5,Kc3,Kd6,h4,f6,h5,Re8,Kd4,Re5,g4,Rc5,Be4,Rc1,f3,Rd1+,Kc3,Re1,Kd2,Rf1,Ke2,Rc1,Kf2,Rc3,Kg3,Rxe3', 'Kf4,Ra3,Kf5,Ra7,Kg6', 'https://lichess.org/training/OdxET');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('odXhA', 'Rapid', 'ELCHACAL', 1966, 'jdfmg', 1841, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Be6,Bxe6,fxe6,O-O,e5,d4,Nc6,dxe5,dxe5,Nbd2,Qd7,c3,O-O-O,Qa4,Kb8,Nc4,Bd6,b4,Nce7,b5,Nf6,Ncxe5,Bxe5,Nxe5,Qe6,Bxf4,Nxe4,Nc6+,Nxc6,bxc6,Qxc6,Qb4,Qb6+,Qxb6,axb6,c4,Nd6,Rfc1,g6,c5,bxc5,Rxc5,b6,Rc6,Kb7,Rc2,Rhe8,h3,Re4,Bg3,Rd4,Rac1,Rd7,Be5,Rd5,Bg3,c5,Bf2,Ne4,Be1,Rd1,Kf1,Rxc1,Rxc1,Kc6,Ke2,Nd6,Kf3,Nb5,Kg4,Rd4+,Kg5,c4,Kh6,Na3,Kxh7,b5,Kxg6,Kd5,h4,b4,h5,b3,axb3,cxb3,Bc3,Rd3,Bb2,Nc4,g4,Nxb2,h6,Nc4,h7,Ne5+,Kf5,Rh3,Rd1+,Nd3', 'Rxd3+,Rxd3,h8=Q', 'https://lichess.org/training/odXhA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Odyxt', 'Rapid', 'Dzelat67', 2109, 'Grathis', 2116, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,a3,d6,h3,O-O,d3,Be6,Bg5,Bxc4,dxc4,h6,Bxf6,Qxf6,Nd5,Qd8,b4,Bb6,a4,a5,Nxb6,cxb6,b5,Nb8,Qd5,Qc7,O-O,Nd7,Rfd1,Nf6,Qxd6,Qxc4,Nxe5,Qxe4,Nd7,Nxd7,Qxd7,Rad8,Qxd8,Rxd8,Rxd8+,Kh7,Rd7,Kg6,Rd6+,Kh7,Rxb6', 'Qd4,Re1,Qxb6', 'https://lichess.org/training/Odyxt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('odZWA', 'Classical', 'mypoorpawn', 1915, 'TanunkiKuN', 1860, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bd3,Ngf6,Qe2,Qa5+,Bd2,Qc7,Bb4,Nxe4,Bxe4,Nf6,O-O-O', 'Qf4+,Bd2,Qxe4,Qxe4,Nxe4', 'https://lichess.org/training/odZWA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oE0QT', 'Blitz', 'doash', 2076, 'Crespo33', 2054, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,O-O,d6,d4,exd4,cxd4,Bb6,Qb3,Qd7,Nbd2,Nxd4,Nxd4,Bxd4,Rb1,Nf6,Nf3,Bb6,e5,Ne4,exd6,O-O,Ne5,Qf5,Bb2,Bxf2+,Rxf2,Qxf2+,Kh1,Nd2,Qd3,Nxb1,d7,Qxb2,Bxf7+,Kh8', 'Ng6+,hxg6,Qh3#', 'https://lichess.org/training/oE0QT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oe0xX', 'Rapid', 'pawnxxi', 1949, 'ChandanJangam5612', 1916, 'e4,c5,Nc3,d6,f4,e6,Nf3,Nc6,Bb5,Bd7,a4,a6,Bc4,Nf6,d3,e5,fxe5,Nxe5,Nxe5,dxe5,Bg5,Be7,Bxf6,Bxf6,Nd5,O-O,O-O,Be7,Qh5,Be6,Ne3,Bxc4,Nxc4,f6,Qg4,Qc8,Qh5,Qe8,Qh3,Qc8,Rf5,g6,Qg3,Qe6,Raf1,Kh8,R5f3,b5,axb5,axb5,Ne3,Ra2,b3,Raa8,Nd5,c4,Nc7', 'Qb6+,Kh1,Qxc7', 'https://lichess.org/training/oe0xX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oE4gf', 'Rapid', 'poj98', 1722, 'sidtompo', 1746, 'd4,d5,c4,Nf6,Nc3,Nc6,Nf3,Bd7,e3,e6,cxd5,exd5,Bd3,Bd6,O-O,O-O,h3,Nb4,Be2,a6,a3,Nc6,b4,b5,Bb2,Re8,Rc1,Ne7,Qc2,h6,Bd3,c6,Rfe1,Qc8,e4,dxe4,Nxe4,Nxe4,Bxe4,Bf5', 'Bxf5,Nxf5,Rxe8+,Qxe8,Qxf5', 'https://lichess.org/training/oE4gf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oE5FA', 'Blitz', 'Lyaskov', 1708, 'urbanq', 1694, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,Nf3,Bb4,Qc2,O-O,a3,Be7,h3,b6,e3,Bb7,Be2,c5,O-O,cxd4,Nxd4,Nc6,Nxd5,Nxd4,Nxe7+,Qxe7,exd4,Rac8,Qd3,Rfd8,Bf4,f6,Bg3,e5,Qb3+,Bd5,Bc4,Bxc4,Qa4,Bxf1,Rxf1,Rxd4,Qb3+,Qf7,Qe3,Rcd8,Kh2,Rd3,Qe4,Qd5,Qa4,a5,Rc1,Qb3,Qc6,Qxb2,Qe6+,Kh8,Rc8,Qxa3', 'Qe8+,Rxe8,Rxe8+,Qf8,Rxf8#', 'https://lichess.org/training/oE5FA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oE9ER', 'Rapid', 'FilthyBishop', 2016, 'ramzes16', 1800, 'd4,d5,c4,Nc6,cxd5,Qxd5,e3,a6,Nc3,Qg5,e4,Qg6,Nf3,Bg4,Be2,Rd8,Be3,Nf6,e5,Ne4,Bd3,Nxc3,Bxg6,Nxd1,Bxf7+,Kxf7,Rxd1,Bxf3,gxf3,e6,Ke2,h6,Rhg1,g5,Rd3,Nb4,Rb3,b5,Rc1,Nd5,Rc6,Ra8,Bd2,Be7,h3,h5,Ba5,Ra7,Rd3,Rg8,Bd2,g4,fxg4,hxg4,hxg4,Rxg4,Rf3+,Ke8,Rxe6,Rxd4,Be3,Nxe3,Kxe3,Kd7', 'Rxe7+,Kxe7,Kxd4', 'https://lichess.org/training/oE9ER');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oEBcd', 'Blitz', 'SewFast', 1829, 'Sandor81', 1743, 'd4,e6,Nf3,Nf6,c4,Bb4+,Bd2,Qe7,Nc3,d5,Qc2,dxc4,e4,O-O,Bxc4,Rd8,O-O,b6,a3,Bxc3,Bxc3,Bb7,Rfe1,Ba6,Bxa6,Nxa6,b4,c5,Qa4,Nc7,dxc5,bxc5,bxc5,Qxc5,Bxf6,gxf6,Rac1,Qb5,Qc2,Ne8,Qc3,Kg7,Qe3,Qd3,Qf4,Rd6,e5,fxe5,Qxe5+,f6,Qg3+,Qg6,Qh3,Rad8,Nh4,Qg5,f4,Qh5,Rc3,Rd1,Rg3+,Kf7', 'Qxe6+,Kf8,Rg8#', 'https://lichess.org/training/oEBcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oEBq4', 'Blitz', 'patricvf', 1814, 'Ovvzoccer', 1795, 'd4,d5,Bf4,Nc6,e3,Bf5,Nf3,e6,c3,Bd6,Bg3,Nf6,Nbd2,O-O,Nh4,Ne7,Nxf5,Nxf5,Bd3,Ne7,Nf3,Rc8,Qc2,h6,Bxd6,cxd6,h3,Nc6,a3,a6,O-O,e5,dxe5,dxe5,Be2,d4,Nxd4,exd4,exd4,Nxd4,Qd3,Nxe2+,Qxe2,Re8,Qf3,b5,Rad1,Qb6,Qg3,Ne4,Qf3,Ng5,Qg3,Re2,Rd6,Qa7,Qg4,Rce8,h4,Nh7,Rxh6,g6,h5,Nf6,Qg5,Ne4,Qg4,Nxf2,Rxf2,Qxf2+,Kh2,R8e6,hxg6,Rxg6', 'Qc8+,Re8,Qxe8+,Kg7,Qh8#', 'https://lichess.org/training/oEBq4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oEBw7', 'Rapid', 'Tading', 1854, 'PinoRiver', 1943, 'e4,e5,f4,Bc5,Nf3,d6,Bc4,Nf6,fxe5,Nxe4,d4,Bb6,Bxf7+,Kxf7,Qd3,d5,O-O,Ke8,c4,c6,cxd5,cxd5,Nc3,Be6,Nxe4,dxe4,Qxe4,Qd5,Qh4,Nc6,Be3,Rd8,Rad1,Kd7,Ng5,h6', 'Nxe6,Qxe6,d5,Bxe3+,Kh1', 'https://lichess.org/training/oEBw7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oEc7O', 'Rapid', 'grullonmariales26', 1779, 'dzaniplays4', 1802, 'd4,Nf6,Bf4,e6,e3,b6,Nf3,Bb7,c3,d5,Bd3,Bd6,Bg3,Ba6,Ne5,Bxe5,dxe5,Nfd7,O-O,Bxd3,Qxd3,Nc6,f4,a6,Nd2,Nc5,Qc2,Ne7,c4,Nf5,Qc3,Nxg3,hxg3,O-O,cxd5,Qxd5,Rad1,Qxa2,Nf3,Qa5,Qc2,Qb4,Ng5,g6,Rd4,Qb3,Qf2,Rad8,Rfd1,Nd3,Qe2,Rxd4,exd4,Nb4,Ne4,Nd5,Rd3,Qb5,Qf3,Qxb2,Nf6+,Nxf6,exf6,Qb5,g4,Kh8,g5,Qf5,g4,Qd5,Qh3,Rg8,Qh6,Qe4', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/oEc7O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oecZk', 'Blitz', 'gaguilar17', 1866, 'LM Rochade_Augsburg', 2414, 'e4,Nc6,d4,e5,d5,Nce7,c4,Ng6,Bd3,Bb4+,Nc3,Nf6,Ne2,O-O,O-O,d6,f4,Nxf4,Nxf4,exf4,Rxf4,Bxc3,bxc3,Nd7,Qf3,Ne5,Qe2,b6,Be3,a5,Raf1,f6,Rh4,Qe8,Bd4,Qg6,Bxe5,fxe5,Rf3,Bg4,Rxg4,Qh6,Rh3', 'Qc1+,Qf1,Rxf1+', 'https://lichess.org/training/oecZk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OEd7x', 'Rapid', 'romeolecrapeau', 1724, 'fredrook2018', 1729, 'd4,d5,c4,Bf5,Nc3,e6,Nf3,Nf6,Nh4,Bg6,e3,c5,Nxg6,hxg6,Bd3,Bd6,h3,a6,Qf3,Nc6,b3,g5,dxc5,g4,Qe2,Bxc5,h4,d4,Ne4,Nxe4,Bxe4,Ne5,Bb2,d3,Qd2,Qb6', 'Bxe5,Bb4,Bc3', 'https://lichess.org/training/OEd7x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oeeOM', 'Classical', 'DrBUNNYCULA', 1828, 'jbdg3000', 1854, 'd4,e6,c4,c5,d5,Nf6,Nc3,a6,Nf3,Qc7,e4,h5,h3,Qa5,e5,Ne4,Bd2,Nxd2,Qxd2,Qb6,Be2,d6,Na4,Qc7,O-O,dxe5,dxe6,Bxe6,Qe3,Nc6,Nxc5,Bxc5,Qxc5,Rd8,b4,b6,Qe3,Nxb4,Qxe5,Qxe5,Nxe5,Nc2,Rac1,Nd4,Bd3,a5,Rfd1,g5,Bf1,g4,h4,Rg8,g3,Ke7', 'Rxd4,Rxd4,Nc6+,Kd6,Nxd4', 'https://lichess.org/training/oeeOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oEFx4', 'Rapid', 'Parimal3008', 1837, 'damirsana', 1820, 'd4,e6,e4,b6,Nc3,c5,Be3,cxd4,Bxd4,Nf6,Nf3,Bc5,a3,Bxd4,Qxd4,Bb7,Bd3,O-O,O-O-O,Nc6,Qe3,Ng4,Qe2,Nce5,Nxe5,Nxe5,f4,Nc6,Qf2,Na5,g4,a6,Rhg1,b5,h4,Nc4,Bxc4,bxc4,g5,f5,gxf6,Rxf6,e5,Rf5,Qg3,Qf8,Rxd7,Bd5,Rxg7+,Kh8,Rd7,Rxf4,Qg7+,Qxg7,Rgxg7,Rxh4,Nxd5,exd5,Rge7,d4,e6,Rf8,Rf7,Rh1+,Kd2,Rh2+,Kd1,Rh1+,Kd2,Rh2+,Ke1,Rh1+,Kf2,Rxf7+,Rxf7,Kg8,Rf3,Rh5', 'e7,Re5,Rf8+', 'https://lichess.org/training/oEFx4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oeh0C', 'Rapid', 'mtchess', 1677, 'Britvich', 1742, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Be2,Bf5,O-O,Bd6,Ne5,O-O,Re1,Nbd7,Bd3,Be6,Bf4,Bxe5,dxe5,Ne8,Re3,g6,Rg3,Ng7,Nd2,f6,Bxg6,hxg6,Rxg6,fxe5,Bh6,Rf7,Bxg7,Rxg7,Rxe6,Qg5,Qf3,Qxd2,Rd1,Qf4,Qxd5,Rf8', 'Rf6+,Rff7,Rxf4', 'https://lichess.org/training/oeh0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oehad', 'Blitz', 'damarichess', 1932, 'enriqueveeckman', 1551, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,O-O,Nge2,d6,Ng3,e5,d5,c6,Bg5,b6,Be2,Bb7,h4,h6,Be3,h5,Qd2,cxd5,cxd5,Nbd7,Bh6,Nc5,Bxg7,Kxg7,f3,Nfd7,Bd1,f5,b4,Na6,exf5,gxf5,Nxh5+,Kg6,Ng3,f4,Bc2+,Kh6,Nf5+,Rxf5,Bxf5,Nxb4,g4,Nf6,g5+,Kg7,gxf6+,Kxf6,Bb1,Qg8,Ne4+,Ke7,Kf2,Na6,Qb2,Nc5,Nxc5', 'Qg3+,Kf1,Qxf3+,Qf2,Qxh1+', 'https://lichess.org/training/oehad');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OehfT', 'Classical', 'gerard18', 1839, 'Asadi__Shadfar', 1915, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,h3,Be6,Bxe6,fxe6,Be3,Bxe3,fxe3,O-O,Nc3,d5,a3,d4,exd4,exd4,e5,dxc3,exf6,Qxf6,bxc3,Qxc3,Qe2,Nd4,Nxd4,Qxd4+,Kh1,Rxf1+,Rxf1,e5,Re1,Rf8,Qxe5', 'Rf1+,Rxf1,Qxe5', 'https://lichess.org/training/OehfT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OEHYz', 'Classical', 'me_unsolicited', 1623, 'Osasu995', 1702, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nd7,cxd5,cxd5,Bf4,Ngf6,e3,Bb4,Bb5,Ne4,Qc2,O-O,O-O,Nxc3,bxc3,Ba5,Bd3,g6,Bg5,f6,Bh6,Rf7,Bxg6,hxg6,Qxg6+,Kh8,Qxf7,Qg8,Qxg8+,Kxg8,Rfc1,e5,Nh4,Kh7,Nf5,Kg6,g4,Bc7,dxe5,Nxe5,Bf4,Bxf5,Bxe5,Bxe5,gxf5+,Kxf5,f4,Bc7,Kf2,Re8,Kf3,Rh8,Rd1,Rh3+,Kg2,Rxe3,Rxd5+,Kxf4,Rf1+,Ke4,Rd4+,Ke5,Rfd1,Rxc3,Rd5+,Ke6,R5d3,Rc2+,R3d2,Rc5,Re2+,Be5,h4,Rc3,h5,Rg3+,Kh2', 'Re3+,Kg1,Rxe2', 'https://lichess.org/training/OEHYz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oEJy3', 'Blitz', 'kramnik110', 2125, 'chnntact', 2116, 'd4,d6,Bf4,Nf6,Nf3,g6,e3,Bg7,h3,O-O,Be2,c5,c3,Nc6,Nbd2,Nh5,Bh2,e5,d5,Ne7,e4,Nf4,c4,Nxg2+,Kf1,Bxh3,Kg1,Qd7,Bf1,Nf4,Bxf4,Bxf1,Bg3,Bh3,Nf1,Bg4,N1h2,h5,Nxg4,Qxg4,Rh4,Qd7,Kg2,f5,Qd3,f4,Bh2,Bf6,Rh3,Kf7,a3,Qg4+,Bg3,fxg3,Rxg3,Qf4,Kh3,Rg8,Rag1,g5,Kg2,g4,Nh2,Bh4,Re3,Qxf2+,Kh1,Ke8,Rf1,Qxb2,Re2,Qd4,Qb3,b6,Qb5+,Kd8,a4,Kc7,a5,Raf8,axb6+,axb6,Rb1,Rb8,Qa6,Rb7,Qb5,Rf8,Qa4,Ng6,Qc6+,Kb8,Qxd6+,Rc7,Rxb6+,Kc8,Qe6+,Rd7,Qc6+,Kd8', 'Rb8+,Ke7,Qe6#', 'https://lichess.org/training/oEJy3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oekfe', 'Classical', 'Iwontplaychess', 1863, 'Holopov', 1959, 'e4,e5,Nc3,Nf6,f4,d6,Bc4,Be7,h3,Nc6,Nf3,exf4,d4,O-O,Bxf4,Nh5,Bh2,Bh4+,Ke2,Ng3+,Bxg3,Bxg3,Rf1,Be6,Bd3,f5,d5,fxe4,Bxe4,Bf5,Bxf5,Rxf5,dxc6,Qe7+,Kd2', 'Bf4+,Kd3,Qe3+', 'https://lichess.org/training/oekfe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oeLP1', 'Rapid', 'CrisanMihai7', 1820, 'Sfide_Mentali', 2178, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,a6,d3,h6,a3,d6,O-O,Nge7,h3,Ng6,Nh2,Nd4,Kh1,c6,f3,O-O,f4,exf4,Bxf4,Nxf4,Rxf4,a5,Qf1,Qe7,Ne2,Nxc2,Rc1,Ne3,Qf3,Nxc4,Rxc4,Be6,Rc3,d5,d4,dxe4,Rxe4,Ba7,Qh5,Qd7,Nf3,Bf5,Rh4,Rfe8,Ne5,Qe6,Nf4,Qf6,Rg3,Kf8,Rd3,Bxd3', 'Nd7+,Ke7,Nxf6', 'https://lichess.org/training/oeLP1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oEmEs', 'Rapid', 'omar-alhelo', 1959, 'Baniyazov_Sunnatilla', 1959, 'c4,f5,Nc3,Nf6,g3,g6,Bg2,Bg7,e3,d6,Nge2,O-O,O-O,e5,d3,Nc6,f4,Be6,a3,a5,b3,Re8,Ra2,Qd7,Nd5,Bxd5,cxd5,Ne7,e4,exf4,Nxf4,Ng4,Ne6,Bh8,exf5,gxf5,Rxf5,Nxf5,Qxg4+,Ng7,Rf2,c6,Rf6,Rf8,Rh6,Qf7,Be3,cxd5,Ng5,Qe7,Bxd5+,Rf7,Bxf7+,Kf8,Rxh7,Qxe3+,Kg2,Ke7,d4,a4,Qh4,Qe2+,Kh3', 'Qf1+,Kg4,Qf5#', 'https://lichess.org/training/oEmEs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oEMtX', 'Blitz', 'marcelrachita', 1697, 'Vixxon', 1713, 'e4,e5,Nf3,d6,a3,Bg4,Bb5+,c6,Be2,Nf6,Nc3,Nbd7,O-O,Nc5,d3,d5,b4,Bxf3,bxc5,Bxe2,Qxe2,d4,Nd1,Bxc5,c4,dxc3,Nxc3,Bd4,Bb2,Qd7,Rab1,Ng4,Kh1,Nxf2+,Rxf2,Bxf2,Qxf2,O-O,Rf1,a5,Qf3,Rad8,Rd1,f5,Ne2,fxe4,Qxe4,Qf7,Bxe5,Qb3,Nc3', 'Qxd1+,Nxd1,Rf1#', 'https://lichess.org/training/oEMtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oEP8P', 'Rapid', 'Kubiknubika', 1682, 'warphile', 1600, 'd4,d5,c4,dxc4,e3,e5,Bxc4,exd4,Qf3,Nh6,exd4,Qxd4,Bb3,Bg4,Qxb7,Bb4+,Nc3', 'Bxc3+,bxc3,Qxc3+', 'https://lichess.org/training/oEP8P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oepC9', 'Rapid', 'ainlau', 1721, 'ginevaldo', 1741, 'e4,e5,Nf3,Bc5,d4,exd4,Nxd4,Qe7,Nc3,Bb4,Bd3,Qe5,Be3,Nf6,O-O,O-O,f4,Qc5,Qd2,Ng4,h3,Nh6,Bf2,d5,Ne6,Qd6,Nxf8,Kxf8,Qe2,Bxh3,Nxd5,Bc5,gxh3,Bxf2+,Kxf2,c6,Nc3,Qxf4+,Qf3,Qh2+,Ke3,Nd7,Rh1,Qd6,Rad1,Re8,Kd2,Ne5,Qe3', 'Nc4+,Kc1,Nxe3', 'https://lichess.org/training/oepC9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oepf6', 'Rapid', 'DNilsom', 2018, 'Pwon17', 2056, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Be2,O-O,O-O,a6,f3,d5,Nxc6,bxc6,exd5,cxd5,Rb1,Bf5,Bg5,d4,Bxf6,Bxf6,Ne4,Bg7,Bd3,a5,Re1,Be6,b3,a4,Nc5,axb3,axb3,Bd5,Qd2,Qc7,Ne4,Be5,g3,f5,Ng5,h6,Nh3,Kg7,f4,Bd6,Nf2,Bb7,Bf1,Qc6,Qxd4+,e5,fxe5', 'Bc5,Qxc5,Qxc5', 'https://lichess.org/training/Oepf6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oeqa0', 'Blitz', 'nisvor', 1619, 'PabloTarabain', 1612, 'd4,Nf6,c4,d6,Nc3,c5,e3,cxd4,exd4,g6,Nf3,Bg7,Be3,Bg4,Be2,O-O,O-O,Nbd7,Qd2,Nb6,b3,Bf5,Bh6,Ne4,Nxe4,Bxe4,Bxg7,Kxg7,Qf4,Bf5,Rfe1,Nd7,Ng5,Nf6,Nf3,Ne4,g4,Nc3,gxf5,Nxe2+,Rxe2,Qd7,fxg6,fxg6,Qg3,Rf6,d5,Raf8,Ng5,Qf5,Ne6+,Kg8,Nxf8,Rxf8,Rae1,Qh5,Rxe7,Rf5,Re8+,Kg7,R8e7+,Kg8,Kh1,Rg5,Re8+,Kg7,R1e7+,Kh6,Qe3', 'Qd1+,Qe1,Qf3#', 'https://lichess.org/training/oeqa0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OEqYF', 'Rapid', 'a2a8Q', 1935, 'BillyMilligani', 1880, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bf5,Bc4,e6,O-O,c6,Re1,Be7,Ne5,Nbd7,Bf4,Nb6,Bb3,Nbd5,Nxd5,Nxd5,Bg3,O-O,c3,Bf6,Bc2,Bxc2,Qxc2,Bxe5,Bxe5,Ne7,Qe2,Ng6,Bg3,Qd5,Qe4,Rad8,Qxd5,Rxd5,h4,Ne7,Be5,Nf5,Re4,Rfd8,h5,c5,g4,Nh4,Re3,g5,f4,cxd4,cxd4,h6,fxg5,hxg5,Rc1,f5,Bf6,f4,Rxe6,Nf3+,Kf2,Nxd4,Re7,R5d6,Be5,Re6,Rxe6,Nxe6,Ke2,Rd7,Rd1', 'f3+,Kxf3,Rxd1', 'https://lichess.org/training/OEqYF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OessX', 'Blitz', 'CM sodabread', 2268, 'Gattamelata', 2223, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Qc7,Nc3,Nf6,Qf3,Nc6,Be3,Ne5,Qe2,d6,f4,Ng6,Qf3,e5,Nf5,exf4,Bd4,Be6,Bxf6,gxf6,Nd5,Bxd5,exd5,Qa5+,Kf2,O-O-O,Bd3,Qb6+,Kf1,Ne5,Qe4,Rg8,b3,Re8,Re1,Qa5,Re2,Qc3,Qd4,Qc1+,Re1,Qd2,Re2,Qd1+,Re1,Qd2,Nxd6+,Bxd6', 'Bf5+,Kc7,Qxd2', 'https://lichess.org/training/OessX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OEvlp', 'Rapid', 'jravi', 1619, 'CrucialPanda', 1650, 'e4,e5,Bc4,Nc6,d3,Nf6,Nh3,Bc5,Ng5,O-O,c3,d6,Qf3,h6,Nh3,Bg4,Qg3,Qd7,f3,Bxh3,gxh3,Nh5,Qg2,Nf4,Bxf4,exf4,d4,Bb6,Rg1,g6,h4,Kh7,Nd2,Qe7,Qg4,Qf6,h5,g5,h4,Rg8,hxg5', 'Rxg5,Qxg5,hxg5', 'https://lichess.org/training/OEvlp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oevYC', 'Blitz', 'Rohwin_86', 1555, 'luciano_spoglia', 1586, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Be2,O-O,O-O,Re8,d4,exd4,Nxd4,d5,Bg5,dxe4,Bxf6,Qxf6,Nb3,Qg5,g3,e3,f4,Qg6,Nxc5,Bh3,Re1,Qc6,Qd5,Qb6,Bc4,Nd7,Qxf7+,Kh8,N3e4,Nxc5,Rxe3,Rxe4,Rae1,Rae8', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/oevYC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oewZE', 'Blitz', 'SayComeONpls', 1591, 'yc1968', 1553, 'b4,e5,Bb2,f5,b5,d6,e3,Nf6,Bc4,d5,Bb3,Bd6,Nf3,e4,Nd4,O-O,O-O,f4,Ne2,f3,gxf3,exf3,Ng3,Bh3,Re1,Ne4,Nxe4,Kh8,Ng3,Bxg3,fxg3,f2+,Kh1,fxe1=Q+,Qxe1,Rf1+,Qxf1,Bxf1,Kg1,Bxb5,Nc3,Bc6,Rf1,Nd7,Nxd5,Bxd5,Bxd5,Ne5,Bb3,Qd6,Rf5,Ng4,Rf4,h5,Rf5,Qxd2', 'Rxh5+,Nh6,Rxh6#', 'https://lichess.org/training/oewZE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oeXYW', 'Classical', 'nettysek', 1823, 'ibexxxxxx', 1906, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Nge7,O-O,Nf5,dxc5,Bxc5,b4,Be7,a4,a5,b5,Nb8,Ba3,Nd7,Bxe7,Nxe7,c4,Qc7,Na3,b6,Rc1,Nxe5,cxd5,Qd6,Nxe5,Qxe5,d6,Nd5,Nc4,Qg5,Bf3,Bb7,Bxd5,Bxd5,f3,Rd8,Nxb6', 'Qe3+,Kh1,Qxb6', 'https://lichess.org/training/oeXYW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oEZBE', 'Rapid', 'AylinK', 1653, 'OlegDmitriev', 1733, 'e4,e6,d4,d6,Nf3,Nf6,Nc3,Bd7,Bc4,Be7,Bf4,O-O,Qd2,d5,exd5,exd5,Nxd5,Nxd5,Bxd5,Re8,O-O-O,c6,Bb3,a5,a4,b5,d5,c5,d6,Bf6,Qd5,Bc6,Qxf7+,Kh8,d7,Nxd7,Be6,Re7,Ng5,Bxg5', 'Bxg5,Rxf7,Bxd8', 'https://lichess.org/training/oEZBE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('of0ZN', 'Rapid', 'RAFA_ROJAS', 1713, 'yzhanh', 1714, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,Nf6,d3,a6,Ba4,b5,Bb3,d6,c3,dxc3,bxc3,c5,Re1,Qc7,Bd5,Nxd5,exd5+,Be7,c4,O-O,Nc3,Bf6,Bb2,b4,Na4,Bxb2,Nxb2,Bf5,Rc1,Qa5,Ra1,Qa3,Qd2,Qc3,Qe2,g6,Na4,Qxd3,Qxd3,Bxd3,Rac1,Rab8,Re7,Ra8,Nb6,Rad8,Nd7,Rfe8,Nf6+,Kf8,Rxe8+,Rxe8,Nxe8,Kxe8,f3,Kd7,Kf2,Kc7,Ke3,Bf5,a3', 'b3,Re1,b2', 'https://lichess.org/training/of0ZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OF1n4', 'Blitz', 'Sukmiov', 1564, 'wulfrunian', 1507, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Be7,b4,Bxb4,c3,Bd6', 'Bxc6+,Nxc6,Qxc6+,Qd7,Qxa8', 'https://lichess.org/training/OF1n4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Of1n5', 'Blitz', 'yanekk', 1611, 'Rezaalialireza', 1613, 'd4,Nf6,c4,d5,Nc3,dxc4,Bf4,Bf5,e3,e6,Bxc4,Bb4,Ne2,a6,O-O,Nc6,a3,Bxc3,Nxc3,Nd5,Qf3,Nxc3,bxc3,O-O,e4,Bg6,Rab1,Na5,Bd3,f5,e5,Qd5,Qxd5,exd5,e6,Rfe8,Rfe1,Re7,Re5,h6,g4,Rae8,Bxf5,Bxf5,gxf5,b6,Rxd5,Nc4,a4,g6,Rd7,gxf5,Rxc7,Rxe6,Rxc4,Re4,Bxh6,Rg4+,Kf1,f4,Rc6,f3,Rbxb6', 'Rg1+,Kxg1,Re1#', 'https://lichess.org/training/Of1n5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Of3JK', 'Bullet', 'elninjo', 1667, 'PequenoMaestro', 1645, 'd4,c5,Bf4,e6,Nc3,cxd4,Qxd4,Nc6,Qa4,d5,O-O-O,Bd7,Qb5,Nf6,Qd3,Be7,Nf3,b5,e4,Nb4,Qe2,Rc8,a3,Rxc3,bxc3,Na2+,Kb2,Qa5,Kxa2,Qxa3+,Kb1,Qxc3,Be5,Qb4+,Kc1,Nxe4,Bxg7,Nc3,Bxc3,Qxc3,Qd3', 'Ba3+,Kb1,Qb2#', 'https://lichess.org/training/Of3JK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('of4mJ', 'Rapid', 'KrokerMan', 1751, 'misterx47', 1930, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,d6,Bc4,Nge7,O-O,Qg6,Nd2,Bh3,Qf3,Bd7,Nxc6,Bxc6,Bxc5,dxc5,Rfe1,O-O-O,Bxf7,Qg5,Nb3,Rdf8,Be6+,Kb8,Qg4,Qf6,f3,h5,Qh3,b6,Bd7,Bb7,Qe6,Qg5,Kh1,Rh6,Qc4,h4,h3,Ng6,Rad1,Nf4,Bg4,Bc8,e5,Bxg4,fxg4,Re6,Re4,Rxe5,Rxf4,Qxf4,Rd8+,Kb7', 'Na5+,bxa5,Qb5#', 'https://lichess.org/training/of4mJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Of56O', 'Rapid', 'Artichoke96', 1790, 'gumanitli', 1770, 'c4,Nf6,d4,g6,Nf3,Bg7,h3,O-O,Bg5,d6,Qd2,Ne4,Qc2,Nxg5,Nxg5,e5,Ne4,Bf5,g4,Bxe4,Qxe4,exd4,Qxb7,d3,exd3,Re8+,Be2,Nd7,Nc3,Rb8,Qf3,Rxb2,Ne4,Rxe2+,Kxe2,Bxa1,Rxa1,Ne5,Qf4,Nc6,Kd2,Re6,g5,Ne5,Nf6+,Kf8,Nxh7+,Kg7,Nf6,Nd7,Nd5,c6,Ne3,d5,cxd5,cxd5,Nxd5,Nc5,Qf3,Qa5+,Nc3,Nb3+,axb3,Qxa1,Qd5,Qe1+,Kc2,Qxf2+,Kc1,Re1+,Nd1,Qe3+,Kc2,Qe2+,Kc3,Rxd1,Qd4+,Kf8,Qh8+,Ke7,Qf6+,Kd7,Qxf7+,Kc6,Qxg6+,Kd5,Qf7+,Qe6', 'Qf3+,Kd6,Qxd1', 'https://lichess.org/training/Of56O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Of5bw', 'Rapid', 'dionut2255', 1678, 'Adamsonn', 1821, 'd4,d5,c4,Nf6,Nc3,e6,cxd5,exd5,Bg5,Be7,Nf3,h6,Bh4,O-O,e3,Bf5,Bd3,Bxd3,Qxd3,Nc6,O-O,a6,Na4,Nb4,Qb3,Nc6,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/Of5bw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oF5Lu', 'Blitz', 'Tarun934', 1854, 'ty46gfrt54', 1906, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,c5,c3,Nc6,Bd3,Bd6,Ne5,cxd4,cxd4,O-O,O-O,Ne4,a3,Nxe5,dxe5,Be7,Nd2,Nxd2,Qxd2,Bd7,b4,a6,Rac1,Bg5,Bg3,Bh4,Bf4,Bg5,Bg3,b5,Qe2,Qb6,Qh5,h6,Kh1,Rfc8,h4,Rxc1,Rxc1,Bxe3,fxe3,Qxe3,Rf1,Qxg3', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/oF5Lu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('of6aT', 'Rapid', 'Sings', 1868, 'Islaam2000', 1907, 'e4,e5,d3,Bc5,Nf3,Nc6,Nc3,d6,Be2,Bg4,O-O,h5,Bd2,Qd7,Na4,Bb6,b4,Nh6,c4,Bd4,b5,Ne7,Nxd4,exd4,f3,Be6,Qc1,c5,f4,Bg4,f5,Bxe2,Re1,Bxd3,f6,Ng6,fxg7,O-O-O,gxh8=Q,Rxh8,Bxh6,Rxh6,Qxh6,Qg4,h3,Qg3,Qd2,Nf4,e5', 'Nxh3+,Kh1,Nf2+,Qxf2,Qxf2', 'https://lichess.org/training/of6aT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OF6uP', 'Blitz', 'danielgen', 1900, 'ULAR_COBRA', 1898, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qd2,Be7,Be2,O-O,h4,h6,Be3,Bd7,g4,e5,Nf5,Bxf5,gxf5,Nfd7,Rg1,Kh7,h5,b5,Nd5,Nc6,Rg6,fxg6,hxg6+,Kg8,Bxh6,Nf6,O-O-O,Nxe4,Qe3,Nf6,Qh3,Nxd5,Bxg7,Bg5+,Kb1,Kxg7,Qh7+,Kf6,g7,Rg8', 'Qg6+,Ke7,Qe6#', 'https://lichess.org/training/OF6uP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oF8H3', 'Rapid', 'mindmagic', 2178, 'emad-dibbini', 2083, 'd3,d5,f4,f5,Nf3,Nc6,g3,Nf6,Bg2,Be6,O-O,Bf7,Nbd2,e6,c4,d4,Qb3,Rb8,Nb1,Bd6,Bd2,O-O,Na3,a6,Nc2,b5,a3,bxc4,Qxc4,Qd7,Ncxd4,Nxd4,Nxd4', 'e5,Qc6,exd4,Qxd7,Nxd7', 'https://lichess.org/training/oF8H3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Of96q', 'Classical', 'Kamalbb10', 1705, 'Educat10n', 1686, 'e4,Nc6,Nf3,d6,Bb5,Bd7,Nc3,e5,O-O,Nf6,Re1,Be7,d4,a6,Ba4,b5,Bb3,exd4,Nxd4,Nxd4,Qxd4,O-O,Nd5,Nxd5,exd5,Bf6,Qd1,Re8,Rxe8+,Qxe8,c3,Qe7,Be3,Re8,Bc2,Bg5,Bxh7+', 'Kxh7,Qh5+,Bh6', 'https://lichess.org/training/Of96q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Of9Zl', 'Blitz', 'abdulkader-rzk', 1805, 'SimonDinnigan', 1811, 'e4,g6,d4,Bg7,Be3,d6,Nf3,Nf6,Bd3,c5,c4,cxd4,Bxd4,Qa5+,Bc3,Qd8,O-O,Nc6,Nbd2,O-O,Nb3,e5,h3,a5,c5,a4,Nbd2,Re8,cxd6,Qxd6,Nc4,Qc7,Qc2,b5,Ncxe5,Nxe5,Nxe5,Nd7,Nxd7,Bxd7,Rac1,Rac8,Qd2,Bxc3,Rxc3,Qb7,Rfc1,Rxc3,Rxc3,Bc6,f3,Qb6+,Kh1,b4,Rc4,f5,exf5,Rd8,fxg6,Bb5,gxh7+,Kh8,Qg5,Bxc4', 'Qe5+,Qf6,Qxf6#', 'https://lichess.org/training/Of9Zl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OFA8z', 'Blitz', 'Mutsuzhamle', 2335, 'CM Chess_Horse', 2441, 'e4,Na6,Nc3,Nc5,Bc4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,O-O,Be7,Re1,O-O,Bg5,h6,Bh4,Ne6,Nf5,Nf4,Nxe7+,Qxe7,Nd5,N4xd5,Bxd5,c6,Bb3,Be6,e5,dxe5,Rxe5,Rfd8,Qe2,g5,Bxe6,Re8,Bxg5,hxg5,Rxg5+,Kf8,Re5,fxe6,Re1,Qf7,Qc4,Nd5,Qh4,Qf6,Rg5,Re7,c4,Nf4,Re4,e5', 'Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/OFA8z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oFbkO', 'Blitz', 'ginloki', 1644, 'croushored', 1732, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,h3,Nxe4,d3,Nf6,Nc3,Bd7,Bg5,a6,Ba4,b5,Bb3,b4,Nd5,Be7,Bxf6,Bxf6,Nd2,Nd4,c3,Nxb3,Qxb3,bxc3,bxc3,Rb8,Qc4,Bb5,Nxc7+,Kf8,Nxb5,Rxb5,Ne4,g6,Nxf6,Qxf6,Qc8+,Kg7,Qc6,d5,Qc7,Rhb8,f4,e4,f5,R5b7,Qg3,Qxc3,Rac1,Qd4+,Kh1,Qxd3,f6+,Kf8,Qh4,h5,Qg5,Rb1,Qe5,R1b2,Qe7+,Kg8,Rc7,Rf8', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/oFbkO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OfBn6', 'Rapid', 'PORABOLIK', 1761, 'bigrtyn', 1722, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d6,d4,cxd4,Nxd4,Bb7,Nc3,e5,Nf5,g6,Ne3,Nf6,f3,Bg7,b3,d5,exd5,cxd5,Ne2,O-O,Bb2,d4,Nc4,Nd5,Ba3,Re8,Nd6,Re7,Nxb7,Rxb7,Bc1,a5,f4,f6,fxe5,fxe5,Ng3,Nc3,Qf3,Rba7,Bd2,Rc8,Ne4,Qb6,Kh1,a4,Nxc3,dxc3,Bxc3', 'e4,Qxe4,Bxc3', 'https://lichess.org/training/OfBn6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OfdgX', 'Rapid', 'lVlichael', 2072, 'pedanticanarchy', 2038, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,e3,O-O,Qc2,c6,Bd3,h6,Bh4,Be6,Nge2,Nbd7,O-O,Ne8,Bxe7,Qxe7,f3,f5,Nf4,Bf7,Bxf5,Nd6,Bxd7,Qxd7,Rfe1,Rae8,e4,dxe4,fxe4,Qg4,g3,g5,Ng2,Bg6,Qb3+,Kh8,e5,Nf5,Rad1', 'Nxd4,Rxd4,Qxd4+', 'https://lichess.org/training/OfdgX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OFeXz', 'Rapid', 'SMRKH', 2005, 'Pavel1962', 1963, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,d3,Nd6,Nxe5,Nxc4,dxc4,Qf6,O-O,d6,Nd3,Be7,Nc3,c6,a4,O-O,a5,Be6,b3,Qxc3', 'Bb2,Qxb2,Nxb2', 'https://lichess.org/training/OFeXz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('off5d', 'Rapid', 'vuti999', 1743, 'cargentey', 1723, 'e4,e6,Bc4,d5,exd5,exd5,Qe2+,Be7,Bb3,Nf6,h3,O-O,Nf3,Re8,O-O,Bc5,Qd1,c6,d4,Bb6,Bg5,Bf5,c3,Nbd7,Nbd2,Qc7,Re1,Ne4,Bc2,Nxg5,Nxg5', 'Rxe1+,Qxe1,Bxc2', 'https://lichess.org/training/off5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OFfe5', 'Rapid', 'hellomadaf', 1646, 'Burhanngr', 1647, 'e4,e5,d4,d5,exd5,Qxd5,Nf3,e4,Nh4,Nf6,Nc3,Qa5,Bb5+,c6,Ba4,Bb4,O-O,Bxc3,Bxc6+,Nxc6,bxc3,O-O,Bg5,Qxg5,d5,Qxd5,c4,Qg5,g3,Bh3,Re1,Rad8,Qe2,Bg4,Qf1,Bh3,Qxh3,Qc5,Nf5,Qxc4,Rad1,Rxd1,Rxd1,Qxc2,Rd6,Qc5,Rxf6,gxf6', 'Qg4+,Kh8,Qg7#', 'https://lichess.org/training/OFfe5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Offw8', 'Rapid', 'Brenzy', 1957, 'Wmic', 2079, 'd4,e6,Nf3,d5,c4,c5,e3,Nf6,Nc3,a6,Bd3,Nc6,cxd5,exd5,O-O,b5,Ne5,Nxe5,dxe5,Nd7,f4,Bb7,Qh5,g6,Qg4,Bg7,e6,Nf6,exf7+,Kxf7,Qe2,d4,exd4,Qxd4+,Be3,Qd6,Rad1,Qc6,f5,Rae8,fxg6+,hxg6,Rf3,Qc7,h3,Bxf3,Qxf3,Rd8,Ne4,c4,Nxf6,Bxf6,Bc2,Rxd1+,Bxd1,Kg7,Bc2,Re8,Bf4,Qb6+,Kh2,Be5,Bxe5+,Rxe5,Qg3,Re2,Bd1,Rd2,Bg4,Rc2,Qe5+,Kh7,Qe7+,Kg8', 'Be6+,Qxe6,Qxe6+', 'https://lichess.org/training/Offw8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OFfY4', 'Classical', 'landmoose', 1930, 'tojo01', 2042, 'e4,e5,Nf3,Nc6,Nc3,a6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bf4,Be6,O-O-O,Ne7,Bg5,f6,Bxf6,Rg8,Bh4,g5,Bg3,Nc6,Qe3,Bg7,Be2,Qf6,Bh5+,Bf7,Nd5', 'Qxb2+,Kd2,Bxh5', 'https://lichess.org/training/OFfY4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ofgOK', 'Rapid', 'JavarisJamar', 2117, 'Agus_Capablanca', 2027, 'c4,c6,e4,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,e6,Bd3,Be7,O-O,Nc6,a3,O-O,Re1,Bd7,Bc2,Rc8,Qd3,Bd6,Bg5,g6,Bh6,Re8,Ng5,Bf8,Bxf8,Rxf8,Rad1,Nd5,Nce4,f5,Qh3,Qe7,Nc5,Nf4,Qh6,Qg7,Qxg7+,Kxg7,Ngxe6+,Bxe6,Nxe6+,Nxe6,Rxe6,Kf7,Bb3,Na5,Ba2,Nc4,Rde1,Rc7,Bxc4,Rxc4,Re7+,Kf6,h4,Rxd4', 'R1e6#', 'https://lichess.org/training/ofgOK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OfHFM', 'Classical', 'yektasatranc2', 1894, 'rumoestadual2018', 1929, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,d6,d4,Bg4,d5,Ne7,Be2,Ng6,h3,Bf5,O-O,Qd7,Nh2,O-O-O,e4,Nxe4,Nxe4,Bxe4,Bg4,Bf5,Qf3,Bxg4,Nxg4,Nh4,Qa3,a6,b4,Kb8,Rb1,Qf5,Be3,Kc8,b5,axb5,Rxb5,Kd7,Rxb7,Rc8,Qa4+,Kd8,Rfb1,h5,Nh2,Qe4,Bg5+,Be7,Bxh4,Bxh4,Nf3,Bf6,Rb8,Ke7,Rxc8', 'Qxb1+,Kh2,Rxc8', 'https://lichess.org/training/OfHFM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oFhit', 'Classical', 'Tarjei82', 1689, 'helge682', 1752, 'Nf3,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,Bg4,Be2,e6,O-O,Bb4,a3,Bxc3,bxc3,Nxe4', 'Qa4+,Nc6,Qxe4', 'https://lichess.org/training/oFhit');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ofj9C', 'Rapid', 'residentbald', 1807, 'MuleJr', 1772, 'e4,c6,d4,d5,Nc3,Nf6,f3,e6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Nce2,c5,c3,cxd4,cxd4,Qb4+,Qd2,Qxd2+,Kxd2,Nc6,f4,Nb6,Nf3,Nc4+,Kc3,b5,a3,a5,b3,Ne3,Kd3,Nxf1,Rhxf1,Ke7,Rac1,Kd7,Rc5,Ba6,Kd2,b4,a4,Rhc8,Rfc1,Rc7,Ng5,Rac8,Nf3', 'Bxe2,Kxe2,Nxd4+,Nxd4,Rxc5', 'https://lichess.org/training/Ofj9C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oFjah', 'Rapid', 'HakanKcakir', 2018, 'JosefReich', 1729, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,a6,Ba4,h6,d4,exd4,cxd4,Nge7,a3,Na5,Nc3,Bxa4,Qxa4+,Nac6,Bf4,g5,Bg3,Bg7,Rac1,O-O,Rfd1,Qe8,Qc2,Ng6,Nd5,Qd7,e5,Rac8,b4,Nge7,Nf6+,Bxf6,exf6,Ng6,d5,Nce5,Nxe5,dxe5,Qe4,Qd6,h4,Qxf6,hxg5,Qxg5,Re1,Rfe8,Qe3,Qxe3,Rxe3,Kg7,Rec3,Nf4,Bxf4,exf4,Rxc7,Rcd8,Rxb7,Rxd5,Rcc7', 'Re1+,Kh2,Rh5#', 'https://lichess.org/training/oFjah');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OfJv1', 'Rapid', 'MOMAS-2', 1933, 'Perkelt', 1814, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,h5,h3,h4,N3e2,Bf5,Nf3,e6,Bg5,Qb6,Qc1,Nd5,c3,Be7,Bd2,Bd3,Ne5,Ba6,c4,Nf6,Be3,Qb4+,Nc3,Nbd7,a3,Qb3,a4,Nxe5,dxe5,Nd7,Ra3,Bxa3,bxa3,Nxe5,Be2,Bxc4,O-O,Bxe2,Nxe2,Qxa4,Qb2,Qb5,Qa2,Qc4,Qb2,Qb5,Qa2,Nc4,Nd4,Qd5,Qb3,Rb8,Rc1,Nxe3,Qxe3,Rd8,Nf3,Qd3,Qxa7,Qb5,Qe3,Rd3,Qf4,Qd5,Qb8+,Qd8,Qxb7,O-O,Qxc6,Rd6,Qc5,Rd5,Qc4,Rd1+,Rxd1,Qxd1+,Kh2,Qd6+,Kg1,Rd8,Qxh4,e5,Ng5,Qh6,Qg4,Qg6,Qg3,f6', 'Qb3+,Kf8,Ne6+', 'https://lichess.org/training/OfJv1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oFkoP', 'Rapid', 'Mael420', 1671, 'SamuraiPopz', 1608, 'b3,e5,Bb2,Nc6,e3,d5,f4,Bd6,Nf3,f6,d3,exf4,exf4,Bxf4,Nbd2,Bg4,Be2,Qe7,O-O,O-O-O,h3,Bxf3,Rxf3,Qd6,Rf1,Be3+,Kh1,Qg3', 'Bg4+,Kb8,Rf3,Qd6,Rxe3', 'https://lichess.org/training/oFkoP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ofmNQ', 'Rapid', 'rusax', 1810, 'Shadow20330', 1846, 'e4,e5,Nf3,d6,Bc4,Be7,Nc3,Nf6,h3,O-O,O-O,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,Bd6,Re1,f5,Bd5+,Kh8,Nxe5,Bxe5,Rxe5,Nc6,Bxc6,bxc6,d4,f4,Qf3,Bb7,Bxf4,Qxd4,g3', 'Qxe5,Bxe5,Rxf3', 'https://lichess.org/training/ofmNQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OfMPD', 'Rapid', 'ghiath1951', 1989, 'Alien315', 1990, 'e4,c6,d4,d5,Nc3,a6,a3,Be6,e5,Nd7,Nf3,g6,h3,Bh6,Bd3,b5,O-O,Qb6,Ne2,O-O-O,c3,Nf8,Be3,Bxh3,gxh3,f5,Ng5,Bxg5,Bxg5,Ne6,h4,h6,Bd2,g5,hxg5,hxg5,Ng3,Rf8,Kg2,Nh6,a4,f4,Nh1', 'f3+,Qxf3,Rxf3', 'https://lichess.org/training/OfMPD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ofmva', 'Rapid', 'Mohammad_Laithy', 2011, 'valleeduvent88', 2107, 'd4,Nf6,Nc3,d5,e4,dxe4,f3,exf3,Qxf3,Qxd4,Be3,Qg4,O-O-O,Qxf3,Nxf3,a6,Bc4,Bg4,Ne5,Bxd1', 'Bxf7+,Kd8,Rxd1+', 'https://lichess.org/training/ofmva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ofpf3', 'Rapid', 'drtg55', 1632, 'KnightKnightChess', 1637, 'e4,c5,Bc4,Nc6,a3,e6,c3,Nf6,d4,cxd4,cxd4,Nxe4,Qf3,Nf6,Bg5,Be7,h4,Nxd4,Qc3,Nc6,Nf3,Ne4,Qxg7,Qa5+,Bd2,Nxd2,Nbxd2,Rf8,O-O,Qh5,Be2,Bxh4,Rac1,Be7,Ne4,Qf5,Bd3,Qg6', 'Nd6+,Bxd6,Bxg6', 'https://lichess.org/training/ofpf3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OfPKN', 'Rapid', 'skondido', 1971, 'CerveruS4', 1972, 'e4,c5,d3,Nc6,g3,Nf6,Bg2,d6,Nd2,e6,c3,Be7,Ngf3,O-O,O-O,Bd7,Re1,d5,e5,Ne8,h4,f6,Qe2,fxe5,Nxe5,Nxe5,Qxe5,Bf6,Qe2,Nc7,Nf3,Bc6,Bf4,Bd7,Ng5,Bxg5,Bxg5,Qe8,Qe5,Rc8,Be3', 'Rf5,Qxf5,exf5', 'https://lichess.org/training/OfPKN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ofqy0', 'Rapid', 'lucidorov', 2087, 'Sacrificer007', 1871, 'd4,Nf6,Bg5,Ne4,Bf4,d5,f3,Nf6,g4,h6,h3,e6,Bg2,Be7,e4,dxe4,fxe4,c5,c3,Nc6,Ne2,cxd4,cxd4,e5,dxe5,Qxd1+,Kxd1,Nd7,e6,fxe6,Nbc3,O-O,Be3,Nf6,Kc2,e5,a3,Be6,Rad1,Rad8,Nd5,Bxd5,exd5,Nd4+,Nxd4,exd4,Rxd4,Bc5,Rd3,Bxe3,Rxe3,Nxd5,Rb3', 'Rf2+,Kb1,Rxg2', 'https://lichess.org/training/ofqy0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oFRny', 'Rapid', 'Delfoscabernard', 1801, 'dmitry_m', 1864, 'e4,c5,Nf3,e6,Nc3,d5,exd5,exd5,d3,Nc6,Be2,Nf6,h3,Be7,Bf4,O-O,Bh2,b6,Qd2,Bd6,O-O-O,Bxh2,Nxh2,b5,Bf3,b4,Nb1,a5,c3,bxc3,Qxc3,Nd4,Qxc5,Nxf3,Nxf3,Be6,Nc3,Rc8,Qd4,Qd7,Ng5,Rb8,Nxe6,Qxe6,Rhe1,Qc6,Re5,Rfc8,Kb1,Qb7,b3,Qc6,Rc1,Rb4,Qa7,Rb7,Qxa5,d4,Rc5', 'Qxc5,Qxc5,Rxc5', 'https://lichess.org/training/oFRny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OfSeN', 'Rapid', 'HappinessSecret', 1640, 'Dimas_Wicaksono', 1724, 'f4,d5,Nf3,e6,d4,c5,e3,Nf6,Bb5+,Nc6,O-O,cxd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,c4,Bc5,cxd5,Nxd5,Rf3,Nxe3', 'Qxd8+,Rxd8,Bxe3,Rd1+,Kf2', 'https://lichess.org/training/OfSeN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ofSKV', 'Rapid', 'abo_muhamad', 1730, 'bakedonly420', 1673, 'e4,c5,Bc4,Nc6,Qh5,e6,d3,Nf6,Qf3,Nd4,Qd1,Be7,c3,Nc6,Nf3,O-O,Bg5,b6,h3,Bb7,Qc1,d5,exd5,exd5,Bb3,h6,Bxh6,gxh6,Qxh6,Nh7,h4,Kh8', 'Ng5,Bxg5,hxg5', 'https://lichess.org/training/ofSKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ofSSS', 'Blitz', 'Dufour42', 1673, 'Danny_Gee', 2006, 'Nf3,f5,d4,Nf6,c4,e6,Nc3,Bb4,Bg5,b6,e3,Bb7,Bd3,O-O,O-O,Bxc3,bxc3,d6,Rb1,Nbd7,d5,exd5,Bxf5,Qe8,Bxd7,Qxd7,Bxf6,Rxf6,cxd5,Qg4,Rc1,Raf8,Ne1,Qg5,e4,Qh4,f3,Rh6,h3,Qg3,Kh1,Rf4,Qd2,Rfh4,Rc2,Ba6,c4,Bxc4,Rxc4', 'Rxh3+,gxh3,Rxh3+,Qh2,Rxh2#', 'https://lichess.org/training/ofSSS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ofuIN', 'Bullet', 'GM alireza2003', 3071, 'GM DrNykterstein', 3166, 'd4,d5,c4,dxc4,e3,e5,Bxc4,Nc6,Nf3,e4,Nfd2,Qg5,Qb3,Qxg2,Bxf7+,Kd8,Rf1,Nf6,Nc3,Bh3', 'Qxb7,Rb8,Qxc6', 'https://lichess.org/training/ofuIN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OFUua', 'Classical', 'Bethoven', 1995, 'tose', 1745, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Kf1,Bd7,Qb3,Ba5,Bc4,Qe7,Qxb7', 'Rb8,Qxb8+,Nxb8', 'https://lichess.org/training/OFUua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ofVaF', 'Classical', 'Believe2', 1609, 'Wladi1977', 1611, 'e4,e5,Nf3,Nc6,Bc4,Nd4,d3,Nxf3+,Qxf3,Qf6,Qe3,Bb4+,c3,Ba5,O-O,Ne7,f4', 'Bb6,fxe5,Bxe3+', 'https://lichess.org/training/ofVaF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ofvdm', 'Classical', 'Stefff992', 1769, 'King_Kong_12', 1817, 'e4,d6,d4,Nf6,Nc3,c6,Nf3,Bg4,Be2,Nbd7,h3,Bh5,O-O,Qc7,Bf4,Bg6,Bd3,Qb6,b3,Bh5,g4,Bg6,Re1,h5,Na4,Qd8,Nh2,hxg4,Nxg4,Nxg4,Qxg4,Nf6,Qf3,e6,c4,d5,exd5,Bxd3,Qxd3,cxd5,Nc3,Bb4,cxd5,Bxc3,dxe6,Bxe1,Rxe1,fxe6,Rxe6+,Kf7,Qc4,Qd5', 'Rxf6+,gxf6,Qxd5+', 'https://lichess.org/training/ofvdm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OfWAr', 'Rapid', 'AghasLiverpool', 1959, 'chavosh63', 1965, 'c4,c5,Nf3,Nc6,b3,b6,Bb2,Bb7,e3,e6,d4,Nf6,Nc3,d5,cxd5,Nxd5,dxc5,Bxc5,Nxd5,exd5,Bxg7,Rg8,Bb2,Qd6,g3,Bb4+,Nd2,d4,exd4,Nxd4,Bxd4,Bxh1,Qe2+,Kd8,Be3,Re8,O-O-O,Ba3+,Kb1,Qg6+,Ne4+,Ke7,Bg5+,Kf8,f3,f5,Qd2,fxe4,Bh6+,Kg8,Bc4+,Re6,Bxe6+,Qxe6,Qg5+,Kf7,Qg7+,Ke8,Qh8+,Ke7,Bf8+,Rxf8,Qxh7+,Rf7,Qh4+,Ke8', 'Rd8#', 'https://lichess.org/training/OfWAr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OFWTJ', 'Blitz', 'Wupper', 2331, 'Guggenheimer', 2411, 'e4,c5,Nc3,e6,f4,d5,d3,Nc6,Nf3,b5,Bd2,b4,Ne2,Nf6,e5,Nd7,c3,a5,d4,Ba6,Ng3,Bxf1,Kxf1,bxc3,bxc3,cxd4,cxd4,Qb6,Be3,Ba3,Rb1,Qa6+,Kf2,O-O,Qb3,Be7,Rhc1,Rfc8,Qb7,Ra7,Qxa6,Rxa6,Rb7,Rd8,f5,Nb4,Ke2,Bf8,Rcc7,Nb6,a3,Na2,Rxf7,Nc4,Bg5,Rc8,f6,Nc3+,Ke1,Nxa3,fxg7,Bb4,Rfc7,Ncb5+,Kf2,Rxc7,Rb8+,Kxg7,Bf6+,Kg6,Nh4+,Kf7,Rh8,Rc2+,Kf3,Bd2,Rxh7+,Ke8,Re7+,Kf8', 'Ng6+,Kg8,Rg7#', 'https://lichess.org/training/OFWTJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OFxNA', 'Blitz', 'muhammadshahid', 2041, 'thetrump', 2282, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,Nd4,O-O,e6,e5,Nxf3+,Qxf3,a6,Bd3,d5,exd6,Qxd6,Ne4,Qc7,Rb1,c4,Be2,f5,Nc3,Ne7,b3,cxb3,axb3,Bd7,Ba3,Bc6,Qf2,O-O,Bc5,Rfd8,Bb6,Qd7,Bxd8', 'Bd4,Bxe7,Bxf2+,Rxf2,Qxe7', 'https://lichess.org/training/OFxNA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OFxTL', 'Classical', 'BetYouCantMateMe', 1634, 'zigmundich', 2142, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Be2,Nf6,b3,Be7,Bb2,O-O,d4,Nc6,O-O,Bg4,Re1,Re8,h3,Bxf3,Bxf3,cxd4,Bxd4,Nxd4,Qxd4,Rc8,Nc3,Bc5,Rxe8+,Qxe8,Qd2,d4,Re1,Qd8,Ne4,Nxe4,Bxe4,Qf6,Bxb7,Rb8,Bf3,g6,Qa5,Bb4,Qe5,Qb6,Re4,Rd8,Be2,Bd6,Qxd4', 'Bh2+,Kxh2,Rxd4', 'https://lichess.org/training/OFxTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OFXwc', 'Rapid', 'sabriel', 2069, 'harrkar', 2080, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,c6,Nf3,e6,O-O,Nf6,d3,Be7,Bg5,Nbd7,Re1,O-O,Ne5,h6,Nxd7,Nxd7,Bxe7,Qxe7,Re3,Qb4,Bb3,a5,Rg3,Kh8,Qg4,g6,Qxb4,axb4,Ne4,Kg7,h4,Ra5,Re1,Nc5,Nxc5,Rxc5,Re4,Rh5,Rxb4,c5,Rf4,e5,Re4,b6,a4,Bb7,Reg4,Bc8,Rc4,Be6,Re4,Bxb3,cxb3,Rd8,b4,cxb4,Rxb4,Rd6,b3,Rc6,Kh2,f5,Rh3,Kf6,f4,exf4,Rxf4,Rc3,Rb4,Rc6,Rb5,Ke6,a5,bxa5,Rxa5,Rb6,d4,Kd6,Rc5,Rb4,Rc4,Rb6,Rcc3,Kd5,Rcd3,Rb4,Kg3,Rxd4,Rxd4+,Kxd4,Kf4,Kd5,g4,fxg4,Kxg4,Re5,Rd3+,Kc5,Rf3,h5+,Kh3,Re6,Rg3,Kb4,Rf3,Rc6,Kg3,Rc3', 'Rxc3,Kxc3,Kf4', 'https://lichess.org/training/OFXwc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oFxxV', 'Rapid', 'eze33', 1826, 'stu01', 1793, 'd4,d5,Bf4,Nc6,e3,h6,Nc3,h5,Nb5,e5,dxe5,Be6,Nf3,a6,Nbd4,Nxd4,exd4,Bg4,h3,Bxf3,Qxf3,g5,Bh2,Bh6,Qxh5,Qe7,c3,O-O-O,Bd3,f6,Qg4+,Kb8,e6,Re8,Bf5,Bg7,O-O,Nh6,Qf3,Nxf5,Qxf5,Qxe6,Qxe6,Rxe6,Rae1,Rhe8,Rxe6,Rxe6,f4,Bh6,fxg5,Bxg5,Rf5,Re2,Rxd5,Rxb2,Rd8+,Ka7,Bxc7,Rxa2,Bb8+,Kb6,Rd6+,Kb5,Rd5+,Kc4,Rc5+,Kd3,d5', 'Be3+,Kh2,Bxc5', 'https://lichess.org/training/oFxxV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ofyez', 'Rapid', 'trueAccount', 1754, 'fh1', 1791, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,c6,Nf3,Bf5,Bd2,Nd7,d4,e6,Ne4,Qb6,Ng3,Bg6,Be2,Rb8,b3,Bb4,O-O,Ngf6,Nh4,Nd5,Nxg6,hxg6,Ne4,N7f6,Nxf6+,gxf6,a3,Bd6,c4,Bxh2+,Kh1,Ne7,g3,Bxg3+,Kg2,Bc7', 'c5,Rh2+,Kg1', 'https://lichess.org/training/Ofyez');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ofzi7', 'Classical', 'masoudmokhtari1955', 1861, 'jawad69amra', 1884, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,d5,cxd5,Nxd5,O-O,Be7,Nc3,Nxc3,bxc3,Nd7,c4,c5,e3,Rc8,Qb3,O-O,Bb2,Ba6,Rfd1,cxd4,exd4,Bxc4,Qa4,a6,Ne5,Bb5,Qb3,Nxe5,dxe5,Qc7,Rac1,Qb8,a4,Be2,Re1,Bh5,Bd4,Rxc1,Rxc1,Rc8,Rb1,Bc5,Bxc5,Rxc5,h4,b5,axb5', 'Rxb5,Qxb5,axb5', 'https://lichess.org/training/ofzi7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OfzYL', 'Blitz', 'NebilSelami', 2145, 'od507', 2142, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,Nf6,d3,a6,Ba4,b5,Bb3,e6,a4,Bb7,axb5,axb5,Rxa8,Bxa8,Nc3,Bc6,Nd2,Be7,f4,O-O,f5,d5,fxe6,fxe6,exd5,exd5,Qe2,Kh8,Qe6,Nb8,Nf3,c4,dxc4,bxc4,Ba4,Bxa4,Nxa4,Re8,Qf7,Qa5,Nc3,d4,Ne4,Qa4,Neg5,Qxc2,Ne5,d3,Nd7,Qe2,Nxf6', 'Bc5+,Be3,Bxe3+,Kh1,Qxf1#', 'https://lichess.org/training/OfzYL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oG0dZ', 'Rapid', 'oooosstrichhh', 1682, 'menacing', 1707, 'd4,d5,c4,dxc4,e3,Nf6,Nc3,e6,Bxc4,Bb4,Bd2,Nc6,a3,Bxc3,Bxc3,Ne4,Ne2,O-O,Qc2,f5,Bd3,Nf6,O-O,a6,Nf4,g5,Nh3,Nd5,Rfe1,Nxc3,bxc3,g4,Nf4,Ne7,e4,Ng6,Ne2,Qg5,Ng3,h5,exf5,exf5,Qb3+,Kh7,Qd5,c6,Qd6,Rf6,Qc7+,Kh6,Re8,h4,Nxf5+', 'Bxf5,Rxa8,Bxd3', 'https://lichess.org/training/oG0dZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oG0Ii', 'Classical', 'MalMax', 1968, 'Hasan1929', 1909, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,c5,e3,Nc6,cxd5,Nxd5,Bb5,cxd4,Nxd4,Nxc3,bxc3,Bd7,Qa4,Qb6,O-O,Be7,Bxc6,Bxc6,Nxc6,Qxc6,Qxc6+,bxc6,a4,a5,c4,Rb8,Bd2,O-O,Bxa5,Bb4,Bxb4,Rxb4,Rfc1,Ra8,a5,f5,Rc3,e5,h4,e4,a6,Ra7,c5,Rb5,g3,Kf7,Kf1,Ke6,Ke2,Kd5,Ra2,Rxc5', 'Rd2+,Ke6,Rxc5', 'https://lichess.org/training/oG0Ii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('og0z9', 'Rapid', 'Fredthewolf', 1956, 'WetCardboardBox', 1814, 'e4,c6,Nf3,d5,exd5,cxd5,Ne5,Nc6,d4,Nxe5,dxe5,e6,Nd2,Bc5,f4,g5,Nf3,gxf4,Bxf4,Qa5+,c3,Bb6,Nd4,Bd7,Be2,Ba4,Qd2,Ne7,O-O,Ng6,b4,Bxd4+,Qxd4,Nxf4,Rxf4,Qc7,Raf1,f5,exf6,e5,f7+', 'Kf8,Qe3,exf4', 'https://lichess.org/training/og0z9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('og3xr', 'Blitz', 'Avoerna08', 2338, 'NM Chesspirate_Channel', 2398, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,g4,Be7,g5,Nfd7,Rg1,Ne5,f4,Ng6,Be3,e5,fxe5,dxe5,Nf5,Qxd1+,Rxd1,O-O,Nd5,Nc6,c3,Be6,Bc4,Rad8,a3,Rfe8,Ke2,Bf8,b4,Bxd5,Bxd5,Nf4+,Bxf4,exf4,Bxc6,bxc6,Rxd8,Rxd8,Rd1', 'f3+,Ke1,f2+,Kxf2,Rxd1', 'https://lichess.org/training/og3xr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oG4Ks', 'Rapid', 'pokerzysta90', 1675, 'Namig63', 1731, 'e4,e5,Nf3,c6,Bc4,Nf6,Bb3,Bc5,h3,O-O,Nc3,d5,exd5,cxd5,d4,exd4,Nxd4,Re8+,Be3,Nc6,Nce2,Bb4+,c3,Ba5,O-O,Nxd4,Bxd4,Bc7,Bxf6,Qxf6,Bxd5,Qe5,Ng3,Bd7,Bxb7,Rab8,Qxd7,Rxb7,Rfe1', 'Qxe1+,Rxe1,Rxe1+,Nf1,Bh2+,Kxh2,Rxd7', 'https://lichess.org/training/oG4Ks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('og50M', 'Rapid', 'cmahonen', 1945, 'roninisc', 1919, 'd4,b6,Nf3,Bb7,Nc3,e6,e3,Nf6,Bd3,c5,Qe2,Nc6,Bd2,Bd6,dxc5,Bxc5,O-O-O,Qc7,e4,Ne5,Bf4', 'Nxd3+,Rxd3,Qxf4+', 'https://lichess.org/training/og50M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('og68B', 'Blitz', 'FM RSUPE_MiRacLe', 2642, 'IM Yarebore', 2784, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,Bg7,g3,f5,exf5,e4,c3,Bxf5,Nc2,O-O,Be2,Ne5,h4,Nd3+,Bxd3,exd3,Nce3,Be4,O-O,Qd7,Nf4,Be5,Nxd3', 'Qh3,Qg4+,Qxg4,Nxg4,Bxd3', 'https://lichess.org/training/og68B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OG8b1', 'Blitz', 'TheLeastAction', 1977, 'puesnada', 1846, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Bc5,c3,d3,Qxd3,d6,b4,Bb6,O-O,Nge7,Ng5,Ne5,Qe2,Nxc4,Qxc4,O-O,Kh1,h6,Nf3,Be6,Qd3,Ng6,Nd4,Nf4,Bxf4,Qf6,Be3,Bd7,Nd2,Qg6,f4,d5,f5,Qh5,e5,c5,bxc5,Bxc5,N2b3,Bb6,a4,a5,Rae1,Rac8,Rf3,Bxa4,Nd2,Qh4,Rg3,Bc7,N2f3,Qh5,Bf4,Qh4,Qe3,Bb6,Bxh6,Rxc3,Rxg7+,Kh8,Qg5,Qxe1+,Ng1,Bxd4', 'Rh7+,Kxh7,Qg7#', 'https://lichess.org/training/OG8b1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('og8uc', 'Rapid', 'arauca23', 2289, 'leva49', 2092, 'e4,e6,d4,d5,Nc3,Nf6,e5,Ng8,f4,Nh6,Nf3,c5,Be3,Nf5,Bf2,cxd4,Nxd4,Nxd4,Bxd4,Nc6,h4,Nxd4,Qxd4,Bd7,Bd3,Qa5,Qf2,Bb4,Ke2,Bxc3,bxc3,Qxc3,Rab1,b6,h5,h6,Rh3,O-O', 'Bh7+,Kxh7,Rxc3', 'https://lichess.org/training/og8uc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Og90X', 'Classical', 'HenryEdwardBird', 1709, 'yanaree', 1664, 'f4,e5,fxe5,Qh4+,g3,Qe4,Nf3,d5,exd6,Bxd6,Bg2,Bg4,O-O,Qa4,Ng5,Ne7,Bxb7,O-O,Bxa8,c6,Nc3,Qa5,Nge4,Bh3,Nxd6,Qc5+,d4,Qxd6,Re1,Nf5,Bf4,Qg6,e4,Bg4,Qd3,Ne7,Bxb8,Rxb8,Bxc6,Nxc6,b3,h6,Nd5,Rd8,b4,f5,b5,fxe4,Qc4,Be6,bxc6,Bxd5,Qb5,Bxc6,Qc4+,Bd5,Qc7,Qg5,c4,Bf7,d5,e3,Qxa7,Qe5,Qxe3,Qb2,Qd3,Bh5,c5,Bf7,d6,Qb4,Rec1,Rc8,c6,Qb6+,Kh1,Rxc6,d7,Rd6,Qf5', 'Bd5+,Qxd5+,Rxd5', 'https://lichess.org/training/Og90X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OG9aa', 'Rapid', 'Kolyha', 1784, 'willi1303', 2041, 'e4,g6,d4,Bg7,Nf3,d6,c3,Nd7,Nbd2,h6,Bc4,e5,O-O,Ne7,Nh4,O-O,g3,exd4,cxd4,Bxd4,Nb3,Bg7,Qc2,Ne5,f4,Nxc4,Qxc4,Nc6,Nxg6,Re8,Nh4,Bd4+', 'Nxd4,Rxe4,Nxc6,Rxc4,Nxd8', 'https://lichess.org/training/OG9aa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OgA08', 'Classical', 'airdean23', 1762, 'Fomin753', 1689, 'd4,d5,e4,e6,e5,Nc6,Nf3,a6,Bg5,Be7,Bxe7,Ngxe7,Bd3,Nb4,O-O,Nxd3,Qxd3,c6,Ng5,h6,Nh3,Ng6,f4,b5,Nd2,a5,a4,bxa4,b4,Ba6,c4,dxc4,Nxc4,Bxc4,Qxc4,Qd7,f5,exf5,e6,Qd5,exf7+,Kxf7', 'Rxf5+,Kg8,Rxd5', 'https://lichess.org/training/OgA08');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oGA2C', 'Rapid', 'madmax_intello', 1715, 'tenace', 1727, 'e4,e5,g3,Nc6,c3,Bc5,Ne2,d6,Na3,a6,b4,Bb6,Nc4,Ba7,d3,Qf6,a4,Qxf2+,Kd2,Be6,b5,axb5,axb5,Be3+,Nxe3,Rxa1,bxc6,bxc6,Qe1,Qf6,Kc2,Ne7,Kb2,Ra2+,Kb1,O-O,Nc2,Rb8+,Nb4,c5,c4,cxb4,Kxa2,b3+,Kb1,c5,Bb2', 'Qf3,Ng1,Qxh1', 'https://lichess.org/training/oGA2C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OgAqq', 'Classical', 'BoringOldMan', 1817, 'botezgambitdeclined', 1846, 'd4,d5,Bf4,e6,e3,c5,Nf3,Nc6,Nbd2,Qb6,dxc5,Bxc5,Rb1,Nf6,Bd3,h6,O-O,Nh5,Be5,Nxe5,Nxe5,Nf6,c4,Bd6,Nef3,Bd7,cxd5,Nxd5,Nc4,Qc7,e4,Nb4,Nxd6+,Qxd6,Bb5', 'Qxd1,Rfxd1,Bxb5', 'https://lichess.org/training/OgAqq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oGaS4', 'Rapid', 'zidan10663444', 1863, 'vojkan', 1851, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,g6,Be3,Nf6,Bc4,a6,Qd2,Bg7,O-O-O,Ng4,Nxc6,bxc6,Bd4,Bh6,f4,e5,Bxe5,Nxe5,Qd4,Bg7,fxe5,Bxe5,Qf2,O-O,Rdf1,Qe7,h4,h5,Ne2,Be6,Bxe6,Qxe6,Kb1,Rab8,b3,Bg7,Nf4,Qe5,Kc1,Qb2+,Kd2,Qc3+,Kd1,Qd4+,Qxd4,Bxd4,a4,Be5,Nd3,Bg7,Re1,Rfe8,Rhg1,Bd4,Rgf1,Re7,Re2,Rbe8,Nb4,Bc5,Nxc6,Rxe4,Rxe4,Rxe4,g3,d5,Rf3,Bb6,Kd2,Re6,Nb4,Ba5,Kc3,d4+,Kc4,Bxb4,Kxb4,Rc6,c4,dxc3,Rxc3', 'a5+,Kxa5,Rxc3', 'https://lichess.org/training/oGaS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oGASx', 'Rapid', 'Ruyriavitz', 1754, 'Luchopela', 1939, 'd4,f5,Nf3,e6,e3,Nf6,c4,b6,Be2,Be7,h4,Bb7,h5,O-O,h6,g6,O-O,d6,Nc3,Nbd7,b3,Ne4,Nxe4,fxe4,Nh2,Bg5,d5,exd5,cxd5,Nf6,Bc4,Bxh6,Bb2,Bg7,Qd4,Qe7,Rab1,Rae8,Bb5,Rd8,Rfc1,Nxd5,Qc4,Qf7,Rc2,Bxb2,Rbxb2,c5,Ng4,Nb4', 'Nh6+,Kg7,Nxf7', 'https://lichess.org/training/oGASx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OgCOB', 'Classical', 'Ayoub_Jaichi', 2032, 'Dr_PatzenGambino_123', 2003, 'Nf3,d5,g3,Bf5,Bg2,Qc8,h3,e5,Nxe5,Bd6,d4,f6,Nf3,Ne7,Nh4,Be6,Nc3,c6,e4,Nd7,O-O,Nf8,Kh2,g5,Nf5,Nxf5,exf5,Bxf5,Re1+,Kf7,Ne2,h5,f4,Nh7,fxg5,Nxg5,Bxg5,fxg5,Rf1,Kg6,c4,h4,cxd5,hxg3+,Kg1,Bxh3,Be4+,Kg7,dxc6,g2,Rf3,bxc6,Qb3,Be6,Qc3,Rh1+,Kf2,Bd5,Bxd5,cxd5,Rg1,Rxg1,Kxg1,Qg4,Qb3,Re8,Qxd5,Bh2+,Kxh2,Rh8+,Kg1,Rh1+,Kf2,g1=Q+,Nxg1,Qxg1+,Ke2,Rh2+,Kd3,Qb1+,Kc4,Qxa2+,b3,Qa6+,Qb5', 'Rc2+,Kb4,Qd6+', 'https://lichess.org/training/OgCOB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OgfS5', 'Rapid', 'zaldiero', 2197, 'carlpyf', 2210, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,c6,e3,Bf5,Nf3,Be7,Nh4,Bg4,Qb3,Qb6,Qc2,h6,Bxf6,Bxf6,h3,Be6,Nf3,Nd7,Bd3,c5,dxc5,Nxc5,Bf5', 'Bxf5,Qxf5,Qxb2', 'https://lichess.org/training/OgfS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oGgl3', 'Rapid', 'lightsoul', 2061, 'Pawn_soup', 1959, 'e4,c6,e5,d5,exd6,exd6,d4,d5,Bd3,Nf6,Bg5,Be7,Nd2,Qb6,Nb3,O-O,Qd2,Re8,O-O-O,a5,Nf3,a4,Nc5,a3,b3,Nbd7,Nxd7,Bxd7,Ne5,Qxd4', 'Bxh7+,Nxh7,Qxd4', 'https://lichess.org/training/oGgl3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oghpq', 'Classical', 'Ahmadmarz', 1885, 'vgd125', 1851, 'c4,c5,Nc3,Nc6,Nf3,Nf6,e3,d5,d4,cxd4,exd4,dxc4,Bxc4,Bf5,O-O,e6,d5,exd5,Re1+,Be7,Nxd5,Nxd5,Bxd5,O-O,Bxc6,bxc6,Qxd8,Bxd8,Bf4,Ba5', 'Re5,Bb6,Rxf5', 'https://lichess.org/training/Oghpq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OGiVU', 'Rapid', 'PostmannPatt', 1768, 'HakanBS26', 1797, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb4,Nbd2,O-O,a3,d5,Bxd5,Nxd5,exd5,Bxd2,Bxd2,Qxd5,Bb4,Re8,Re1,Rxe1+,Qxe1,Bg4,Ne5,Nxe5,Qxe5,Qxe5,dxe5,Be6,Rc1,Rc8,Bd6,c6,g3,h6,f4,b5,Kf2,Bd5,Ke3,a5,Kd4,g6,Kc5,Kg7,Kb6,a4,Be7,g5,fxg5,hxg5,Bxg5,Rh8', 'Bf6+,Kg6,Bxh8', 'https://lichess.org/training/OGiVU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ogIYm', 'Classical', 'Dev83', 1712, 'Sanja_M', 1712, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d4,Bd6,Bb5,a6,Bxc6,dxc6,dxe5,Nxe4,exd6,Nxc3,bxc3,cxd6,O-O,O-O,Bf4,d5,Re1,Qf6,Qd4,Qg6,Re2,Bh3,g3,Bg4,Ne5,Qh5,Nxg4,Qxg4,Rae1,f6,Re7,Qg6,Qb4,b5,R1e6,Rfe8,Rxc6,Qxc2,Rcc7,Rxe7,Qxe7,Qg6,Qd7,Re8,Qxd5+,Kh7,Qd2,Qb1+,Kg2,Qe4+,Kh3,Qf5+,g4,Qg6,Bxh6,Qxh6+,Qxh6+,Kxh6,Rc6,Ra8,Kh4,a5,f4,Kh7,Kh5,Rd8,Rc5,b4,cxb4,axb4,Rc4,Rb8,h4,b3,axb3,Rxb3,g5', 'g6+,Kg4,f5#', 'https://lichess.org/training/ogIYm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OgkAL', 'Rapid', 'RickRenegade', 1993, 'Artwell', 1909, 'e4,d6,Nc3,Nf6,Bc4,g6,d4,Bg7,Nge2,O-O,O-O,Nbd7,f4,c5,e5,Ng4,e6,cxd4,Nxd4,Qb6,Ne2,fxe6,Bxe6+,Kh8,Bxg4,e5,Be3,exd4,Bxd4,Bxd4+,Qxd4+,Qxd4+,Nxd4,Nc5,Bxc8,Raxc8,Nb3,Nxb3,cxb3,a6,Rad1,Rc2,Rxd6,Rxb2,Rb6,Rxa2,Rxb7,Rc8,h3,Rcc2,Rb8+,Kg7,Rd1,Rxg2+,Kf1,Rh2,Kg1,Rxh3,Rd7+,Kf6,Rb6+,Kf5,Rd5+,Kxf4,Rd1,Kg3', 'Rd3+,Kh4,Rb4+,Kg5,Rxh3', 'https://lichess.org/training/OgkAL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OgKcp', 'Rapid', 'Debasish223', 1666, 'V_Shelby', 1657, 'e4,d5,exd5,e6,dxe6,Bxe6,Nf3,Nc6,Nc3,Qe7,d3,Bxa2+,Qe2,Qxe2+,Bxe2,Be6,O-O,O-O-O,Re1,Nf6,Ng5,h6,Nge4,Nxe4,Nxe4,Bb4,Bd2,Bxd2,Nxd2,g5,Bf3,Nd4,Rxa7,c6,Bd1,Kb8,Ra4,Nf5,Bf3,Bd5,Bxd5,Rxd5,Rea1,Kc7,Nf3,f6,Rd1,h5,h3,g4,hxg4,hxg4,Rxg4,Kb6,b3,Rd7,Rb4+,Kc7,Ra1,Rdh7,Kf1,Rh1+,Ng1,Rg8,Ra7,Nd6,g3,f5,Kg2,Rh6,c4,Kb8,Rba4,Kc7,c5,Nb5,R7a5,Nc3,Rb4,Nd5,Rc4,f4,Re4,fxg3,fxg3,Rhg6,g4,Rxg4+,Rxg4,Rxg4+,Kf2,Rb4,Ra3,Nf4,Ke3,Nd5+,Kd2,Rg4,Ne2,Rg2,d4', 'Nf4,Ke3,Nxe2', 'https://lichess.org/training/OgKcp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oGKiO', 'Blitz', 'fahrefahre', 2172, 'persian-girl-Iran', 2176, 'g3,e6,Bg2,d5,e4,Nf6,exd5,exd5,Nf3,Bd6,O-O,O-O,Re1,c6,d3,Bg4,h3,Bh5,Nc3,Nbd7,Ne2,Re8,Nf4,Rxe1+,Qxe1,Bg6,Nxg6,hxg6,Bg5,Qc7,Qd2,Re8,Re1,Qb6,c3,Qc7,Rxe8+,Nxe8,Qe3,Nef6,Nd4,a6,b4,Ne5,a4,b6,Nf3,Nfd7,Nxe5,Nxe5,d4,Nc4,Qe8+,Kh7,h4,f6,Bc1,a5,h5,gxh5,Qxh5+,Kg8,Qe8+,Bf8,Bf1,axb4,cxb4,Qd6,Bd3,Qxb4,Bf4,Qe7,Qg6,Qe1+,Kg2,Nd6,Qh7+,Kf7,Bg6+,Ke7,Qg8,Qe6,Bxd6+,Qxd6,Qf7+,Kd8,Qe8+,Kc7,Qa8,c5,Qa7+,Kc8,dxc5,Qxc5,a5,bxa5', 'Bf5+,Kd8,Qd7#', 'https://lichess.org/training/oGKiO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ogKxe', 'Blitz', 'NM ka1ser', 2308, 'tengotoidze', 2159, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,d5,Ne2,dxc4,a3,Bxc3+,Nxc3,O-O,Bxc4,b6,O-O,Bb7,f3,Nbd7,e4,c5,d5,exd5,exd5,Ne5,Ba2,c4,Bg5,h6,Bh4,g5,Bg3,Nd3,Bxc4,Nxb2,Qd4,Nxc4,Qxc4,Bxd5,Nxd5,Qxd5,Qc3,Qc5+,Qxc5,bxc5,Rac1,Rac8,Bd6,Rfd8,Bxc5,a6', 'Be7,Kg7,Bxd8', 'https://lichess.org/training/ogKxe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ogLrt', 'Classical', 'igrok51', 1778, 'shobi007', 1641, 'e4,e5,Nf3,Nc6,Bb5,Qf6,Nc3,Nge7,d3,Nd4,Nxd4,exd4,Ne2,c6,Ba4,b5,Bb3,Qe5,f4,Qc5,O-O,a5,a3,a4,Ba2,Ng6,Kh1,d6,Ng3,Be7,Bd2,O-O,c3,dxc3,Bxc3,d5,d4,Qb6,exd5,Bh4,Ne4,Bf5,Nc5,cxd5,Bxd5,Rac8,Ba2,Be7,Nd3,Rfe8,Ne5,Nxe5,fxe5,Be6,Bb1,h6,Qh5,Bc4,Rf2,Bg5,Bf5', 'g6,Qh3,gxf5', 'https://lichess.org/training/ogLrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OgmT9', 'Rapid', 'Maurice2004', 2058, 'Kalex2012', 1888, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,Be7,O-O,O-O,d3,Bg4,h3,Be6,Nd5,c6,Nxe7+,Qxe7,Bxe6,fxe6,Nh2,d5,exd5,Nxd5,c4,Nf4,Bxf4,exf4,Qe2,Nd7,Rfe1,Rae8,Nf3,Nf6,Rad1,Nh5,d4,c5,d5,e5,Nxe5,f3,gxf3,Nf4,Qf1,Qg5+,Ng4,h5,Rxe8,Rxe8,Kh2,hxg4,fxg4,Qe5,Kh1,Ne2,Kg2,Nf4+,Kh1,Qe4+,f3,Qc2,d6,Re2,d7,Rh2+,Kg1,Nxh3+,Qxh3', 'Qf2#', 'https://lichess.org/training/OgmT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oGnEa', 'Classical', 'ayylmao11', 1674, 'danzel25', 1666, 'e4,e5,Nf3,d6,Nc3,Nf6,d3,h6,h3,Be6,Be2,Nc6,O-O,d5,exd5,Nxd5,Nxd5,Bxd5,c4,Be6,a3,Bd6,b4,O-O,c5,Be7,Be3,Bf6,Qc2,a6,Rfd1,Qd7,Kf1,Bxh3,gxh3,Qxh3+,Ke1,e4,dxe4,Bxa1,Rxa1,Rad8,Nd2,Rfe8,Bf1,Qh4,Bg2,Qh2,Bf3,Qh3,Ke2,Ne5,Bh1,Rxd2+,Kxd2,Rd8+,Kc3,Qe6,Rb1', 'Qc4+,Kb2,Nd3+', 'https://lichess.org/training/oGnEa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oGnt4', 'Blitz', 'Jaime2158', 1656, 'Kike83', 1955, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Nf6,Nc3,Bb4,Qc2,Bxc3+,bxc3,Qc7,Ba3,d6,f4,Nc6,Nxc6,Qxc6,e5,dxe5,fxe5,Qe4+,Qxe4,Nxe4,Bd3,Nxc3,O-O,Na4,Bd6,Nb6,c5,Nd5,Rac1,Bd7,Be4,Bc6,Bxd5,Bxd5,a3,O-O-O,Rf4,Rd7,Rcf1,f5,exf6,gxf6,Rxf6,b6,Rf8+,Rxf8,Rxf8+,Kb7', 'Rb8+,Kc6,Rxb6#', 'https://lichess.org/training/oGnt4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ogpPz', 'Rapid', 'Paerhc', 2141, 'Tauseef2', 2144, 'd4,c5,e3,d5,c3,Nc6,Bd3,Nf6,Nd2,c4,Bc2,e5,dxe5,Nxe5,Qe2,Bg4,Ngf3,Bd6,O-O,Qc8,e4,O-O,exd5,Nxd5,Ne4,Bc7,h3,Nxf3+,gxf3,Bxh3,Rd1,Qf5,Ng3,Qe6,Qxc4,Bxg3,Qxd5,Qe2,Bxh7+,Kh8,Be3,Rad8,Bd3,Qxe3', 'Qh5+,Qh6,Qxh6+,gxh6,fxg3', 'https://lichess.org/training/ogpPz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OgrfZ', 'Rapid', 'milebaja', 1863, 'vbajnok', 1769, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Be2,Bf5,Nf3,e6,O-O,c6,Bg5,Bg4,Qd3', 'Bxf3,Qxf3,Qxg5', 'https://lichess.org/training/OgrfZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oGSRf', 'Blitz', 'FM mwpchess', 2629, 'IM Principatibus', 2597, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Bd7,Nf3,Bc6,Bd3,Nd7,c3,Ngf6,Nxf6+,Nxf6,Kf1,Bxf3,Qxf3,c6,Bf4,Bd6,h4,Bxf4,Qxf4,Nd5,Qf3,Qc7,h5,O-O-O,Rh4,g5,hxg6,hxg6,Rxh8,Rxh8,Ke2,e5,dxe5,Qxe5+,Kd2,Rd8,Kc2,Nf4,Rd1,f5,g3,Ne6,Bc4,Ng5', 'Rxd8+,Kxd8,Qd3+,Kc7,f4,Qe7,fxg5', 'https://lichess.org/training/oGSRf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ogsZD', 'Rapid', 'pedrpan', 1690, 'joelpabraham', 1963, 'b3,e5,Bb2,Nc6,Nf3,d6,d4,e4,Nfd2,d5,c4,Bb4,Nc3,Bxc3,Bxc3,Nf6,cxd5,Qxd5,e3,Na5,Nc4,b6,Nxa5,bxa5,Bc4,Qd6,Bxa5,O-O,Qc2,Ba6,O-O,Bxc4,bxc4,Rac8,Rab1,c5,Bc3,cxd4,Bxd4,Qa6,Rb5', 'Qxb5,cxb5,Rxc2', 'https://lichess.org/training/ogsZD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oGuyu', 'Blitz', 'Presiden', 1926, 'Stavros_Stavrou', 1892, 'd4,d5,c4,c6,e3,e6,a3,Nf6,Nc3,Nbd7,f4,Be7,c5,b6,b4,a5,Rb1,O-O,Bd3,Ba6,Bxa6,Rxa6,Qd3,Ra8,Nf3,axb4,axb4,h6,O-O,Qc7,Ne5,Rfb8,h3,bxc5,bxc5,Rxb1,Qxb1,Rb8,Qc2,Rb4,Rf3,Qb7,Rg3,Rb3,Nxf7,Rxc3,Nxh6+,Kf8,Qxc3,Ne4,Qe1,Nxg3,Qxg3,gxh6,Kh2,Qb1,Bd2,Qd3,Ba5,Nf6,f5,Qxf5,Qb8+,Kf7,Bc7,Ne4,Be5,Bf6,Qc7+,Kg6,Bf4,Bg5,Be5,Bxe3,Qb8,Bg5,Qg8+,Kh5,Qe8+,Kh4', 'g3+,Nxg3,Bxg3#', 'https://lichess.org/training/oGuyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OGVWC', 'Classical', 'JC1965', 1901, 'desiignerr', 1968, 'e4,c5,c3,g6,f4,Bg7,Nf3,e6,d4,cxd4,cxd4,Ne7,Be3,O-O,Bd3,Nbc6,a3,a6,O-O,b5,b4,d5,e5,f6,Nbd2,fxe5,Nxe5,Nxe5,fxe5,Nf5,Bf2,Nh4,Qe1,Nf5,Nf3,Qb6,Rc1,Bb7,Rc5,Rac8,Qc1,Bh6,Qc2,Ne3,Bxe3,Bxe3+,Kh1,Rxc5,bxc5,Qc7,Qe2,Bh6,Rd1,Qa5,Qb2,Bc6,Be2,Rb8,g4,Bg7,g5,Rf8,Kg2,Qd8,h4,Qc7,Qd2,Qf7,Kg3,Ra8,Rf1,Qb7,Nh2,a5,Ng4,b4,axb4,axb4,Nf6+,Bxf6,gxf6,Ra3+,Kg2,Be8,Bg4,b3,Bxe6+,Bf7,Bxf7+,Qxf7,Qb4,Ra2+,Kg1,b2,Rb1,g5,Rxb2,Ra1+,Rb1,Ra8,hxg5,Qg6,Rb2,Qe4,Qd2,Ra1+,Kf2,Qh4+,Ke2,Qh2+,Kd3,Qg3+,Kc2,Qf3,c6,Qe4+,Kb3,Qf3+,Qc3', 'Ra3+,Kxa3,Qxc3+', 'https://lichess.org/training/OGVWC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oGWKv', 'Classical', 'ChessPlayerTYR', 1890, 'Alexey_Zdyumaev', 1867, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Bc5,c3,dxc3,Nxc3,O-O,Re1,d6,Bg5,Bb4,Nh4,h6,Bxf6,Qxf6,Nd5,Qxh4,Re3,Bc5,Rg3,Qxe4', 'Nf6+,Kh8,Nxe4', 'https://lichess.org/training/oGWKv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OgxIO', 'Bullet', 'Tjalk15', 1655, 'phillmenez', 1719, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,d4,Be6,Nxe6,fxe6,O-O,exd4,Re1,Qd6,Bxd5,Qxd5,Bf4,O-O-O,Nd2,Bb4,a3,Ba5,b4,Bb6,Nf3,Rhf8,Bg5,Rde8,Rc1,Rxf3,gxf3,Qxg5+,Kh1,Ne5,Rg1,Qf6,f4,Qxf4,Rxg7,Qe4+,Kg1,Nf3+,Kf1,Nxh2+,Kg1,Nf3+,Kf1,Qf5,Qe2,d3,Qd1,Nh2+,Kg1,dxc2', 'Qd7+,Kb8,Qxe8#', 'https://lichess.org/training/OgxIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oGxxq', 'Rapid', 'REMI-08', 1759, 'jager2509', 1700, 'e4,e5,f4,exf4,Nf3,Nc6,d4,a6,Bxf4,Nf6,Nc3,d6,d5,Ne7,Be2,Bg4,O-O,Nh5,Qd2,Ng6,Be3,Be7,h3,Bxf3,Bxf3,Ne5,Bxh5,g6,Be2,Qd7,Bd4,h6,Qf4,Bg5,Qf2,O-O-O,Bxe5,dxe5,Bg4,f5,exf5,Kb8,fxg6,Qe7,Qf7,Qc5+,Kh1,Rhf8,Qe6,Rfe8,Qf5,Bf4,Qe4,Qb6,Na4,Qb5,Rf3,Rxd5,Nc3,Qxb2,Rb1', 'Qxb1+,Nxb1,Rd1+,Qe1,Rxe1+,Rf1,Rxf1#', 'https://lichess.org/training/oGxxq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OGyI6', 'Blitz', 'Fertog', 1629, 'Jvicentelouro', 1670, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e4,d6,d4,c5,d5,Qa5,Bd2,Qb6,Qa4+,Bd7,Qa3,Nxe4,Nxe4,Bxb2,Qd3,Bxa1,Bc3,Bxc3+,Qxc3,O-O,Bd3,Na6,a3,Nc7,h4,h5,Bc2,Ne8,Qd3,Bf5,g4,hxg4,Nfg5,Ng7,h5,gxh5,Rxh5,f6,Nxf6+,Rxf6,Qe2,Bxc2,Qxc2,Nxh5', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/OGyI6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ogYMN', 'Classical', 'stomatologiaJulia', 1838, 'diplompunk', 2033, 'd4,d5,Nf3,e6,h3,Be7,Bf4,Nf6,e3,O-O,Nbd2,Nbd7,c3,a6,Bd3,b5,a4,bxa4,Rxa4,c5,Bc2,Qb6,Ra2,Bb7,O-O,Rfc8,Nb3,a5,Ne5,Nxe5,dxe5,Nd7,Nd2,g6,Nf3,Bf8,c4,Bg7,cxd5,Bxd5,Ra1,Qxb2,Rb1,Bxf3,gxf3,Qc3,Rb3,Qc4,Bd3,Qa4', 'Bb5,Qa2,Bxd7', 'https://lichess.org/training/ogYMN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OgZ1w', 'Rapid', 'zivojin-jelic', 1898, 'Nenikikamen', 1906, 'd4,d5,c4,e6,a3,dxc4,Nc3,Nc6,e3,Nf6,Bxc4,Be7,Nf3,O-O,Qc2,a6,b4,b5,Ba2,Bb7,Bb1,g6,O-O,Bd6,e4,e5,d5,Nd4,Nxd4,exd4,Ne2,Re8,f3,Be5,f4', 'd3,Qxd3,Bxa1', 'https://lichess.org/training/OgZ1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ogz5F', 'Rapid', 'laburle', 1859, 'inovak', 1836, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,c5,Ne2,O-O,O-O,Nc6,d5,Ne5,Bb5,a6,Ba4,b5,Bc2,Qc7,Bf4,Qa5,Bxe5,Bxe5,Qd2,Rd8,f4,Bg7,h3,e6,Rfd1,exd5,exd5,Rd6,Be4,Bb7,Rac1,Rad8,Qe3,Qc7,Qf3,f5,Bc2,Bxd5,Qe3,Kf7,Ng3,Re8,Qf2,Bb7,Rxd6,Qxd6,Rd1,Qc6,Ne2,Re3,Kf1,Qe6,a4,Bc6,Bd3,c4,Bc2,Bxc3,axb5,axb5,Nxc3,Rxc3,Re1,Qd7,Rd1,Qb7,h4,Be4,Bxe4,Qxe4', 'Qa7+,Qe7,Rd7', 'https://lichess.org/training/Ogz5F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oH12R', 'Rapid', 'Zorglub_1', 1747, 'Lenageur', 1876, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nxc6,bxc6,g3,Rb8,Bg2,Nf6,O-O,Bg4,f3,Be6,b3,Qd7,Nd2,Be7,a4,O-O,Ba3,Bh3,Re1,Bxg2,Kxg2,d5,Bxe7,Qxe7,exd5,Qc5,Ne4,Nxe4,fxe4,cxd5,exd5,Rbd8,Qe2,Qxd5+,Kg1,Qc6,Qe4,Qc5+,Kh1,Rd2,Re2,Rxe2,Qxe2,Qc6+,Qg2,Qc3,Rd1,Re8,Qd2,Qf3+,Kg1,h6,Qd3,Qh5,Qd5', 'Re1+,Rxe1,Qxd5', 'https://lichess.org/training/oH12R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oh2qC', 'Rapid', 'rogeregor', 1915, 'Mtini10', 1882, 'd4,d6,c4,g6,e4,Bg7,Nc3,Nd7,Nf3,c5,d5,Ngf6,Bd3,O-O,O-O,Ng4,h3,Nge5,Be2,Nxf3+,Bxf3,Ne5,Be2,b6,Be3,Ba6,Qa4,Qc8,Rac1,Bb7,Qc2,Ba6,Nb5,Bxb5,cxb5,Qd7,Qb3,Qb7,Rc2,Rac8,f4,Nd7,f5,Ne5,fxg6,fxg6,Bf4,Qd7,Qe3,Rf7,Bxe5,Bxe5,Bg4,Qxb5,Rxf7,Kxf7,Qf3+,Bf6,Bxc8,Qa4,b3,Qd4+,Rf2,Qa1+,Kh2,Qe5+,Qf4,Qa1,Be6+,Kg7,h4', 'Be5,Qxe5+,Qxe5+', 'https://lichess.org/training/oh2qC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oh6yh', 'Rapid', 'WirelessPawn', 1775, 'rapidblunder', 1834, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nge7,Bg5,Nxd4,Qxd4,h6,Bh4,g5,Qxh8,Ng6,Qd4,c5,Qd1,Nxh4,Bc4,Nxg2+,Kf1,Nf4,Nc3,d6,Bb5+,Bd7,Bxd7+,Qxd7,h4,Bg7,hxg5,Bxc3,bxc3,Qb5+,Ke1,Qc4,f3,Qxc3+,Kf2,Qd4+,Qxd4,cxd4,gxh6,O-O-O,h7,Rh8,Rag1,Ng6,f4,Kd7,f5,Ne7,Rg7,Ke8,Rhg1,Kf8,f6,Ng6,Kf3,Ne5+,Kf4,Ng6+,Kf5,Nh4+,Kg5,Ng6,Kh6,b5,R1xg6,fxg6,Kxg6,b4,Rf7+,Ke8,Kg7', 'Rxh7+,Kxh7,Kxf7', 'https://lichess.org/training/oh6yh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oH8O4', 'Rapid', 'casazuca', 1949, 'amurf', 1917, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,cxd4,axb4,dxc3,bxc3,Qc7,Bd2,Qxe5+,Be2,Nf6,Nf3,Qc7,O-O,Bd7,Bg5,Ne4,Bd3,Nxc3,Qd2,O-O,Ra3,Nb5,Bxb5,Bxb5,Nd4,Bxf1,Kxf1,Nd7,Rg3,Rfc8,Bh6,g6,h4,Qc4+,Kg1,e5,Nf3,Qc6,h5,Re8,hxg6,fxg6,Ng5,d4,Qd3,Qc3,Qe4,Qc6,Qd3,Rac8,Qb3+,Qc4,Qf3,Nf8,Qxb7,Rc7,Qf3,Qxc2', 'Qd5+,Ne6,Nxe6', 'https://lichess.org/training/oH8O4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oha3p', 'Blitz', 'HenryEight', 2206, 'netanya', 2130, 'e4,d5,exd5,Qxd5,Nc3,Qa5,g3,c6,Bg2,Nf6,Nf3,Bg4,O-O,Nbd7,d4,e6,h3,Bh5,Re1,O-O-O,Bd2,Bb4,a3,Bxc3,Bxc3,Qc7,Qd3,Bg6,Qc4,Nb6,Qb3,Nfd5,Ba5,h5,c4,Nf6,c5,Nfd5,cxb6,axb6,Bd2,h4,Bg5,hxg3,Bxd8,gxf2+,Kxf2,Rxd8,Rad1,Qf4,Re5,Rh8,Rxd5,exd5,Qe3,Qxe3+,Kxe3,f6,Kf2,Kd7,Re1,Be4,Nd2,f5,Nxe4,dxe4,Kg3,Kd6,h4,Kd5,Rd1,Re8,Kf4,g6,Bf1,b5,Be2,Rh8,h5,gxh5,Kxf5,h4,Kg4,h3,Rh1,h2,Kg3,Kxd4,Rxh2,Rxh2,Kxh2,Ke3,Bf1,Kd2,Kg1,Kc2,Kf2', 'Kxb2,Ke3,Kxa3,Kxe4,b4', 'https://lichess.org/training/oha3p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oHBCw', 'Rapid', 'camatkArin', 1756, 'CChretienCCathal', 1611, 'd4,d5,Nf3,Nd7,e3,f6,c4,dxc4,Bxc4,e5,dxe5,fxe5,O-O,Ngf6,Nc3,Bc5,Ng5,Rf8,Ne6,Qe7,Nxc7+,Kd8,Nxa8,e4,a3,a6,b4,Bd6,Na4,b5,Bxb5,axb5,N4b6,Bb7,Bb2,Ne5,Rc1,Nd3,Qd2,Nxc1,Rxc1,Ke8,Qc3,Nd5,Nxd5,Bxd5,Qc8+,Kf7,Qf5+,Kg8,Qxd5+,Kh8,Nb6,Bxh2+,Kf1,Qh4,Qd2,Bg3,Rc8,Qh1+,Ke2,Qh5+,f3,exf3+,gxf3,Qxf3+,Kd3,Qf5+,Kc3,Rxc8+,Nxc8', 'Qxc8+,Kb3,Qc4#', 'https://lichess.org/training/oHBCw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OhBpa', 'Rapid', 'Gillulescududu', 1828, 'Optmus', 1817, 'e4,d5,e5,d4,d3,Nc6,Bf4,e6,Nf3,b6,Be2,Bb7,Nbd2,Nge7,a3,Ng6,Bg3,Be7,O-O,O-O,c3,Qd5,c4,Qd8,b4,a6,b5,axb5,cxb5,Nb8,a4,Nd7,Nb3,Nc5,Nbxd4,Bxf3,Nxf3,f6,d4,Ne4,Bd3,Nxg3,fxg3,f5,Bc4,Qd7,Qb3,Kh8,Bxe6,Qd8,Bd5,Rb8,Bc6,f4,g4,Nh4,Rad1,Nxf3+,gxf3,h5,h3,hxg4,hxg4,Bh4,Rd2,Bg3,e6,Qe7,Re2,Rf6,Re5,Rh6,Bd7,Qh4,Rh5,Rxh5,gxh5', 'Qh2#', 'https://lichess.org/training/OhBpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oHBqi', 'Blitz', 'caspalov2', 1952, 'den000000008', 1935, 'b4,e5,Bb2,f5,Bxe5,d6,Bb2,Qg5,Nf3,Qf4,a3,Nf6,e3,Qh6,c4,Nbd7,d4,Be7,Nc3,O-O,Qb3,Kh8,Bd3,f4,e4,a5,b5,b6,O-O,Ng4,h3,Ndf6,e5,dxe5,dxe5,Ne8,hxg4,Bxg4,Nd5,Bd8,Qc3,Bf5,Bxf5,Rxf5,Bc1,Rh5,g3', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/oHBqi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OHcWs', 'Blitz', 'umudo003', 2111, 'igorlesh1974', 2210, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qxe7+,Nxe7,a4,d5,exd5,Nexd5,Nxd5,Nxd5,Bc4,Be6,Bd2,Rc8,Bb3,O-O,O-O,Rfd8,Rad1,h6,Rfe1,f6,Ba5,Rd7,Rd2,Rc5,Bb6,Rc6,a5', 'Nxb6,Rxd7,Nxd7,Bxe6+,Rxe6', 'https://lichess.org/training/OHcWs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ohDgD', 'Blitz', 'pajaritopicochulo', 1543, 'reuven4785', 1553, 'd4,d5,c4,Nf6,Nc3,c6,Bg5,e6,g3,h6,Bf4,g5,Be5,Bg7,Nf3,O-O,Bh3,dxc4,O-O,b5,a3,Nbd7,Bd6,Re8,Ne5,Nxe5,Bxe5,Nd7,Bxg7,Kxg7,e4,Nb6,Qh5,Qxd4,Rad1,Qf6,Rd6,Bb7,Bf5,Rad8,Rfd1,Rxd6,Rxd6,Nc8,e5,Qxf5,Rd7,Ba8,Ne4,Qg6,Qe2,Nb6,Rc7,Nd5,Rxa7,Qf5,Nd6,Qd3,Nxe8+,Kg6,Qg4,Qf5,Qd4,Nb6,Nd6', 'Qb1+,Kg2,c5+,Rxa8,cxd4', 'https://lichess.org/training/ohDgD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OHdvA', 'Rapid', 'IsaiasJunior', 1864, 'andreising', 1975, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,d3,Bg4,f3,Bh5,Be3,e6,Nd2,Bd6,Qe2,Nbd7,h4,Bg3+,Kd1,O-O,Nf1,Qc7,Nh3,h6,Nxg3,Qxg3,Bf2,Qe5,g4,Qxb2,Kd2,Rac8,gxh5', 'Qc3+,Kc1,Qxa1+', 'https://lichess.org/training/OHdvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ohDXb', 'Blitz', 'Vincenthebest1999', 2197, 'FM AndreyNeves', 2280, 'd4,d5,c4,e6,Nc3,Be7,Nf3,Nf6,Bf4,O-O,e3,c6,Rc1,Nbd7,Bd3,Nh5,Be5,Nxe5,Nxe5,g6,Be2,Nf6,O-O,Bd6,Nf3,Ne4,c5,Bc7,Nd2,Nxc3,Rxc3,e5,dxe5,Bxe5,Rc2,f5,Nf3,Bc7,Nd4,f4,exf4,Rxf4,Re1,Bd7,Bf1,Qf6,Nb3,Rf8,Qd2,Rxf2', 'Qxf2,Qxf2+,Rxf2', 'https://lichess.org/training/ohDXb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oHDZV', 'Rapid', 'Effective55', 1827, 'faresanta', 1962, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bg4,Bd3,Nc6,c3,Bd6,O-O,Qd7,Na3,a6,Nc2,O-O-O,Ne3,Bh5', 'Bf5,Nge7,Bxd7+', 'https://lichess.org/training/oHDZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oHfyp', 'Classical', 'strategist101', 2028, 'chessman1945', 1886, 'd4,d5,Nf3,Nc6,Bf4,e6,e3,h6,Bd3,Nge7,c3,a6,Nbd2,b6,O-O,Qd7,Re1,Ng6,Bg3,f5,c4,Bd6,Rc1,Bxg3,hxg3,O-O,a3,Na5,b4,Nb7,c5,bxc5,dxc5,c6,Qc2,e5,Nh4,Nxh4,gxh4,e4,Be2,Qf7,Nb3,f4,exf4,Qxf4,Bd1,Qxh4,Re3,Bg4,Rg3,Bxd1,Rxd1,Rf6,Nd4,Raf8,Qc3,Nd8,Rxg7+,Kh8,Rg3,Kh7,Rd2,Rg6,Ne2,Rxg3,Nxg3,Qf4,a4,Ne6,Ra2,d4,Qc2,d3,Qc3,Rf6', 'Nh5,Rf5,Nxf4', 'https://lichess.org/training/oHfyp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OHg8U', 'Blitz', 'GM Darenas1224', 2508, 'FM sergeikim2003', 2460, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,O-O,a6,a4,Ba7,Bb3,O-O,Bg5,Qe7,Nbd2,h6,Bh4,Nd8,h3,Ne6,Re1,Nf4,Nf1,Ng6,Bg3,Be6,Ne3,c6,a5,Rad8,Nh4,d5,Nhf5,Qe8,Qc2,Kh7,Ba4,Qd7,Qe2,d4,cxd4,exd4,Nc4,Bxf5,exf5,Qxf5,Nd6,Qd7,Bb3,Nd5,Bxd5,cxd5,Qf3,Bb8,Nf5,Bxg3,fxg3,Rfe8,Nxd4,Ne5,Qf1,Kg8,Kh2,Qc7,Qf4,f6,Nf5,Qf7,d4,Nd3,Qg4,Kh7', 'Rxe8,Rxe8,Nd6', 'https://lichess.org/training/OHg8U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OhGPp', 'Blitz', 'achtal', 1665, 'NM panpeter365', 2095, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Bf5,Nf3,e6,c3,Nc6,Be3,Be7,Bd3,O-O,Bxf5,Qxf5,Qb1,Qg4,O-O,f5,h3,Qh5,Qd1,g5,Ne5,Qxd1,Raxd1,f4,Bc1,Rad8,Nxc6,bxc6,Rfe1,Rf6,Re5,Kf7,Rde1,Bd6,R5e4,h5,f3,Rg8,Bd2,g4,fxg4,hxg4,hxg4,Rxg4,R1e2', 'f3,Rxg4,fxe2,g3,Rf1+', 'https://lichess.org/training/OhGPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ohhao', 'Rapid', 'polarbre', 2212, 'Lowskill12', 2166, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,h3,Bg7,d3,e5,Nc3,Qc7,Be3,b6,Qd2,h6,O-O,Nf6,a3,Nd7,b4,c4,dxc4,Nf8,c5,Ne6,cxb6,axb6,Rfd1,Nf4,Qd6,Qxd6,Rxd6,Bd7,Bxb6,Bf8,Rdd1,f6,Nd2,Ra6,Be3,Ne6,Nc4,Rh7,Nd6+,Kd8,a4,Kc7,Bc5,Nxc5,bxc5,Ra5,Rab1,Rxc5,Rb7+,Kd8,Rb8+,Ke7,Nb1,Rxc2,Nc8+,Ke6,Nb6,Bc5,a5,Bd4,Na3,Ra2,Nbc4,Bxf2+,Kh2,Bc5,a6,Bxa3,a7,Bc5,a8=Q,Rxa8,Rxa8,Bd4,Rb1,f5,Nd2,Be3,Rb2,Bf4+,g3,Be3,Kg2,Bd4,Rb7,Re7,Kf3,c5,Ra6+,Kf7,Nb3,Bc8,Rxe7+,Kxe7,Ra7+,Bd7,Nxd4,fxe4+,Kxe4,exd4,Kd5,d3,Kxc5', 'd2,Ra1,Ba4', 'https://lichess.org/training/ohhao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OHhar', 'Rapid', 'blackscandinavian', 1787, 'Andtheman', 2032, 'e4,b6,d4,Bb7,Nc3,e6,Bd3,d5,e5,c5,Bb5+,Nc6,Nce2,Qc7,c3,Ne7,Nf3,Nf5,Bxc6+,Qxc6,g4,Ne7,Bg5,h6,Bxe7,Bxe7,Qc2,Rc8,O-O-O,c4,h4,b5,Kb1,b4,g5,b3,Qc1,bxa2+,Ka1,h5,g6,f5,exf6,Bxf6,Ne5,Bxe5,dxe5,Rf8,f4,Qc7,Nd4,Qb6,Nb5,Qxb5,f5,Rxf5,Rhf1,Rxe5,Rf7,Rf5,Rxf5,exf5,Qe3+,Kd8,Re1,Qd7', 'Qg5+,Kc7,Re7', 'https://lichess.org/training/OHhar');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OHHRI', 'Rapid', 'Krzynied', 1672, 'helloman974', 1744, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Nd5,Nxd5,exd5,Ne7,Bc4,e4,Ne5,d6,Ng4,Qd7,h3,g6,Qe2,Bg7,Qxe4', 'f5,Qe2,fxg4,Bb5,c6', 'https://lichess.org/training/OHHRI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OhHyr', 'Rapid', 'Igorx', 1699, 'sopratreinar', 1726, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Bc5,O-O,d6,Bg5,h6,Bh4,O-O,Nc3,Be6,Qf3,Bd4,Rab1,Bxc3,bxc3,Bg4,Bxf6,Qxf6,Qxf6,gxf6,Rb7,Rfc8,Rfb1,Be6,a3,c5,f4,Bd7,Ba6,Bc6,Rxa7,Rxa7,Bxc8,Rxa3,Rb8,Kg7,Bb7,Bxb7,Rxb7,Rxc3,Rxc7,Rxc2,Rc6,Rc4,Rxd6,Rxe4,Rc6,Rc4,Kf2,Rc2+,Kf1,Kg6,g4,Rc4,f5+,Kg5,h3,Kh4,Kg2,Rc2+,Kf3,Kxh3,Rxf6,Rc3+,Kf4,Rc4+,Kf3,Rxg4,Rxh6+,Rh4,Rf6,Rh7,Rc6,c4,Rxc4,Rh5,Ke4', 'Rh4+,Kd5,Rxc4,Kxc4,Kg4', 'https://lichess.org/training/OhHyr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ohIB5', 'Rapid', 'alexst123', 1861, 'serbi', 1946, 'd4,d5,Bf4,Nf6,e3,g6,Nd2,Bg7,h3,Nc6,Ngf3,Ne4,Nxe4,dxe4,Nd2,f5,Nc4,Be6,Ne5,Nxe5,dxe5,Qxd1+,Rxd1,O-O,b3,Rfd8,Be2,Rd5,Rxd5,Bxd5,O-O,Bf8,Rd1,Be6,f3,a5,a4,Kf7,g4,exf3,Bxf3,Rb8,g5,b5,axb5,Rxb5,Ra1,Bd5', 'c4,Bxc4,bxc4', 'https://lichess.org/training/ohIB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ohkFY', 'Classical', 'mohammad-afsharian', 1953, 'Abdallahammar', 1959, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,a6,g4,e5,Ne2,h5,g5,Nh7,h4,Be7,Bh3,Nc6,c3,Nf8,Ng3,Ng6,Bf5,Nf4,Bxf4,exf4,Bxc8,Rxc8,Nf5,g6,Nd4,Nxd4,cxd4,O-O,Nc3,Qa5,Qd2,Rc6,Nd5,Qxd2+,Kxd2,Bd8,Rac1,Ba5+,b4,Rxc1,Rxc1,Bd8,Rc8,a5,a3,axb4,axb4,Kg7,Nxf4', 'Bxg5,hxg5,Rxc8', 'https://lichess.org/training/ohkFY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OhKXc', 'Rapid', 'Andreib33', 1684, 'ajaysinghduggal', 1602, 'd4,d5,Nc3,Nf6,Bg5,Nc6,Bxf6,exf6,Qd2,Bb4,a3,Ba5,O-O-O,O-O,Qd3,g6,f3,Bf5,e4,dxe4,Nxe4,Qe7,g4,Be6,d5,Rad8,Qb5,f5,gxf5,Bxf5,Ng3,Qe3+,Kb1,Bxc2+,Kxc2,Nd4+,Rxd4,Qxd4,Qxa5,Rxd5,Qb4,Qf2+,Be2,a5,Qc4', 'Rc5,Qxc5,Qxc5+', 'https://lichess.org/training/OhKXc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oHmj0', 'Rapid', 'Ottimot', 1986, 'DrMiracleChess', 2009, 'e4,d5,exd5,Qxd5,Nf3,Qa5,Be2,e5,Nc3,Bb4,O-O,Nf6,Nxe5,Qxe5,Bb5+,Kf8,Re1,Qd4,Qe2,Be6,a3,Bg4', 'Qe8+,Nxe8,Rxe8#', 'https://lichess.org/training/oHmj0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ohmOy', 'Rapid', 'Dsta', 1662, 'CLSmith15', 1665, 'e4,e5,f4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qd8,Bc4,exf4,O-O,Bc5+,Kh1,Bg4,h3,Bh5,Nd5,Na5,Nxf4,Bxf3,Bxf7+,Kxf7,Qxf3,Nf6,Nd3,Bb6,g4,h6,Ne5+,Ke6', 'Qf5+,Ke7,Ng6+,Kf7,Nxh8+', 'https://lichess.org/training/ohmOy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OhMZw', 'Rapid', 'rautor', 1659, 'MARRANOSKY', 1954, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bd3,Be7,Nc3,Bg4,f3,Bh5,g4,Bg6,g5,Nfd7,h4,h6,f4,hxg5,fxg5,Bxg5', 'Bxg5,Qxg5,hxg5,Rxh1+,Bf1', 'https://lichess.org/training/OhMZw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oho05', 'Rapid', 'cleberGemelli', 1764, 'BrunoDomene', 1746, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,d4,Nb5,c5,Qe2+,Be7,Ne5,Nf6,c3,O-O,g3,a6,Na3,Bd6,f4,Nfd7,Nac4,Nxe5,fxe5,Bc7,Bg2,Nc6,Bxc6,bxc6,cxd4,cxd4,d3,c5,Bf4,Bb7,Rf1,Bd5,O-O-O,Bxc4,dxc4,a5,e6,Bxf4+,Rxf4,fxe6,Qxe6+,Kh8,Rg4,Qf6,Qd7,Rf7,Qb5,Qd6,Re1,a4,Rge4,Rff8,Re8,Raxe8,Rxe8', 'Qh6+,Kd1,Qh5+', 'https://lichess.org/training/Oho05');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ohoAj', 'Rapid', 'C21Chess', 1973, 'chesucks', 2013, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Ng3,g6,f4,Nbd7,Nf3,Nb6,Ne5,Bg7,c3,Nbd5,Bc4,O-O,h4,Bg4,Nxg4,Nxg4,Qxg4,b5,Bd3,c5,h5,cxd4,cxd4,Nf6,Qg5,Qxd4,Ke2,Rad8,Rd1,Rfe8,hxg6,hxg6,Qxb5,Ng4,Bc2', 'Qf2#', 'https://lichess.org/training/ohoAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OhoEG', 'Rapid', 'Jusamaie2019', 1856, 'maillon', 1714, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,Nc3,Nd4,Qd1,Bc5,Nf3,d6,Nxd4,Bxd4,Nd5,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/OhoEG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oHpgh', 'Blitz', 'Siagas', 1593, 'nking1188', 1764, 'd4,Nf6,Nf3,e5,c4,e4,Nfd2,d5,e3,Bg4,Be2,Bxe2,Qxe2,Nbd7,O-O,Be7,Nc3,c6,a3,O-O,b4,a6,f3,exf3,Nxf3,Ne4,Nxe4,dxe4,Nd2,Nf6,Bb2,Bd6,c5,Bc7,Rf2,Qb8,g3,Qc8,d5,Nxd5,Nxe4,Re8,Ng5,f6,Qf3,Rxe3,Qh5,h6,Bxf6,Nxf6,Rxf6,Qd8,Qf7+,Kh8', 'Rxh6+,gxh6,Qh7#', 'https://lichess.org/training/oHpgh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oHpvy', 'Rapid', 'Orland', 2044, 'Shingon8', 1992, 'e4,c5,c4,g6,d3,Bg7,f4,e6,Nc3,Ne7,Be2,d6,Nf3,O-O,O-O,Nbc6,a3,a6,Bd2,Nd4,b4,Nec6,bxc5,dxc5,e5,b5,cxb5,axb5,Ne4,Qb6,Be3,Rd8,Rc1,Nxe2+,Qxe2,Nd4,Nxd4,cxd4,Bd2,Rxa3,Bb4,Ra4,Be7,Re8,Bf6,Bb7,Nd6,Rea8,Nxb7,Qxb7,Qg4,Ra2,Rf3,b4,f5,exf5,Rxf5,b3,Rff1,b2,Rb1,Ra1,e6,Rxb1,exf7+,Kf8', 'Bxg7+,Kxg7,Qxd4+', 'https://lichess.org/training/oHpvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ohqdW', 'Blitz', 'bubenchiki', 2406, 'IM Odirovski', 2461, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nc3,Be7,Bd3,O-O,Nge2,Re8,Be3,c6,O-O,a5,Nf4,g6,h3,Bg5,Qf3,Na6,a3,Nc7,Rae1,d5,cxd5,cxd5,Nfxd5,Nbxd5,Nxd5,Nxd5', 'Bxg5,Rxe1,Bxd8', 'https://lichess.org/training/ohqdW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OHRz8', 'Blitz', 'DeshpandeAdi', 1547, 'plassholder', 1555, 'd4,Nf6,Bf4,d5,Nf3,Bf5,e3,e6,Be2,Nbd7,Nbd2,Ne4,O-O,Ndf6,Ne5,Bd6,f3,Nxd2,Qxd2,c5,Bb5+,Ke7,dxc5,Bxc5,Rfe1,a6,Bf1,Re8,b4,Bb6,Kh1,Kf8,Qf2,Rc8,Bd3,Rc3,Bxf5,exf5,Rac1,d4,Qg3,Nd5,exd4,Bxd4,Qg5,Qxg5', 'Nd7+,Kg8,Rxe8#', 'https://lichess.org/training/OHRz8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oHV37', 'Classical', 'boldaji175', 1925, 'finemaster', 1710, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Nxe4,Bxb4,Nxb4,O-O,c6,Re1,d5,a3,cxb5,axb4,Bg4,h3,Bh5,Qd3,O-O,Nc3,Qf6', 'Nxd5,Qd8,Qxe4', 'https://lichess.org/training/oHV37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OHvuA', 'Rapid', 'Anton1n', 2130, 'lulumix', 2140, 'e4,c5,Nc3,d6,f4,Nc6,Bc4,g6,Nf3,e6,d3,Bg7,O-O,Nge7,Qe1,O-O,Qh4,f5,Ng5,h6,Nh3,fxe4,dxe4,Nd4,f5,g5,Nxg5,hxg5,Qxg5,Nec6,Qg3,a6,Rf4,b5,Rg4,Rf7,Bh6,Qc7,f6,Ne5,Rxg7+,Rxg7,Qxg7+,Qxg7,fxg7,Nxc4', 'Rf1,Nf5,exf5', 'https://lichess.org/training/OHvuA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OHy00', 'Rapid', 'feka45', 1776, 'lurifaxen', 1768, 'e4,c5,Nf3,Nc6,g3,g6,Bg2,Bg7,c3,Nf6,d3,d6,O-O,Bg4,h3,Be6,Be3,Qd7,h4,Bh3,Nbd2,Bxg2,Kxg2,Ng4,Nb3,Nce5,d4,Nxf3,Qxf3,Nxe3+,Qxe3,b6,Qf3,O-O,d5,Qb5,Rab1,Qa4,Nc1,Qc2,Qd3,Qa4,b3,Qa5,c4,Bd4,a4,Qa6,Ne2,Be5,f4,Bg7,f5,Qc8,Nf4,Be5,Nh3,h6,g4,Kh7,fxg6+,fxg6,Rxf8', 'Qxg4+,Kh1,Rxf8', 'https://lichess.org/training/OHy00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ohYMt', 'Rapid', 'Tony2laplaya', 1712, 'edemus', 1836, 'e4,e5,f4,exf4,Nf3,g5,Bc4,d6,d4,Bg4,Nc3,Bxf3,Qxf3,Nd7,Qh5,Qe7,Bd2,Ngf6,Qe2,O-O-O,O-O-O,Nb6,Bd3,h6,e5,dxe5,dxe5,Nfd5,Nxd5,Rxd5,Bc3,Na4', 'Bf5+,Kb8,Rxd5,Nxc3,bxc3', 'https://lichess.org/training/ohYMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OhZa4', 'Rapid', 'Doubleforward', 1992, 'baluisbalu', 1985, 'c4,e6,a3,d5,cxd5,exd5,d4,Nf6,Nc3,c6,Nf3,Bd6,e3,Bf5,Bd3,Bg6,h3,Nbd7,b4,Bb8,Qc2,Qc7,Bb2,O-O,Rc1,Re8,Kf1,Ne4,b5,Nxf2,Kxf2,Qg3+,Kf1,Rxe3,Bxg6,fxg6,bxc6,bxc6,Nxd5,cxd5,Qc8+,Nf8,Qb7,Rxf3+,gxf3,Qxf3+,Kg1,Qg3+,Kf1,Qf3+,Kg1,Bg3,Rf1,Qe3+,Kg2,Bd6,Qf7+,Kh8,Qxd5', 'Qg3#', 'https://lichess.org/training/OhZa4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OhzB7', 'Rapid', 'erigva', 1872, 'AboOsama69', 1848, 'd4,Nf6,Bg5,Ne4,h4,Nxg5,hxg5,e5,g6,fxg6,dxe5,Bc5,Nf3,O-O,e3,Nc6,Bc4+,Kh8,Ng5,Qxg5,Qe2,Qxe5,Nc3,Bb4,O-O-O,Bxc3,bxc3,Qxc3', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/OhzB7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oHZsh', 'Rapid', 'Filipe_Henri', 1761, 'Roofies', 1680, 'e4,e5,Nf3,Nc6,Nc3,d6,d3,Nf6,Bg5,Be7,Bxf6,Bxf6,Be2,Bg4,h3,Bh5,Nd5,O-O,Nxf6+,Qxf6,Qd2,Bg6,Qg5,Qxg5,Nxg5,Nd4,Bd1,h6,Nf3,Nxf3+,Bxf3,f5,exf5,Bxf5,Bxb7,Rab8,Bd5+,Kh8,O-O-O,Rb5,Bc4,Rb6,g4,Bd7,Rd2,Rfb8,c3,c6,f3,d5,Bb3,a5,a4,Be6,Ba2,c5,Rhh2,d4,Bxe6,Rxe6,c4,Rb4,b3,Rxb3,Rb2,Rxd3,Rbf2,Rc3+,Rc2,Rxf3,Rhf2,Rxh3,Rb2,Rc3+,Kd2,Rxc4,Rb5,Rxa4,Rxc5,Ra2+,Ke1,Rxf2,Kxf2,e4,Rxa5,e3+,Ke2,Rd6,g5,hxg5,Rxg5,Kh7,Rh5+,Kg6,Rh2,Kf5,Kd3,g5,Rh8,g4,Rf8+,Kg5,Rf1,g3,Rg1,Kg4,Ke2,Kh3,Kf3,Rg6', 'Rh1#', 'https://lichess.org/training/oHZsh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oi11h', 'Blitz', 'MrSOK', 2571, 'IM rafatrafat13', 2474, 'd4,Nf6,Nf3,g6,Bf4,Bg7,c3,O-O,h3,d6,e3,b6,Nbd2,Bb7,Be2,Nbd7,Bh2,Ne4,O-O,Ndf6,a4,a5,Bb5,Nxd2,Nxd2,Ne4,Nxe4,Bxe4,Qg4,f5,Qe2,Kh8,f3,Bb7,e4,e6,exf5,exf5,Rae1,Bd5,Qe7,Rf7,Qe2,f4,Kh1,Qh4,c4,Bb7,d5,Raf8,Qf2,Qg5,Re4,Be5,Rfe1,Bc8,Bg1,Qf6,Qd2,Bxb2,Rxf4,Qxf4,Qxb2+,Qf6', 'Bd4,Qxd4,Qxd4+', 'https://lichess.org/training/oi11h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oi4I2', 'Classical', 'HetWittePaard', 1976, 'PlanetLABC61', 1819, 'd4,Nf6,Nf3,e6,c4,c5,d5,exd5,cxd5,d6,Bg5,g6,Bxf6,Qxf6,Nc3,a6,e4,Bg4,Be2,Bxf3,Bxf3,b5,O-O,Bg7,Re1,O-O,e5,dxe5,d6,Nc6,Bxc6,Rad8,Ne4,Qh4,g3,Qh3,d7,f5,Nxc5,e4,Ne6,f4,Nxf8', 'f3,Qxf3,exf3', 'https://lichess.org/training/oi4I2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oI4u9', 'Rapid', 'Zamir86', 1983, 'mariehamn2003', 1990, 'd4,f5,e4,fxe4,Nc3,Nf6,Bc4,d5,Nxd5,c6,Nc3,Bg4,Nge2,Nbd7,h3,Bh5,g4,Bg6,Nf4,Qc7,a3,Nb6,Ba2,Bf7,Bxf7+,Kxf7,g5,Nfd5,Qg4,Ke8,Qh5+,Kd7,Qf7,Nxc3,bxc3,Qd6,a4,Nd5,Ba3', 'Qxf4,Qxf4,Nxf4', 'https://lichess.org/training/oI4u9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OI6X0', 'Rapid', 'a_tachsin', 1626, 'LuxTheSlav', 1648, 'e4,c5,Nf3,Nc6,g3,b6,c3,Bb7,d4,cxd4,cxd4,g6,Bg2,Bg7,O-O,e6,Re1,Nge7,Bf4,d5,exd5,Nxd5,Bg5,Qd7,Ne5,Nxe5,dxe5,O-O,a4,Bc6,a5,b5,f4,h6,Bh4,a6,g4,Qa7+,Bf2,Qc7,Qc1,Rac8,Bxd5,Bxd5,Qxc7,Rxc7,b4,Rc4,Bc5,Rc8,Nd2,Rxf4,h3,h5,gxh5,gxh5,Rf1,Bh6,Rad1,Rxf1+,Kxf1,Bc4+,Nxc4,bxc4,Ke2,Bf4,Rg1+,Kh7,Rf1,Bxe5,Rxf7+,Kg6,Ra7,c3,Rxa6,Kf5,h4,c2,Kd2,Bc3+,Kxc2', 'Bxb4,Kb3,Bxc5', 'https://lichess.org/training/OI6X0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OI7Rq', 'Rapid', 'nnzzrr', 1808, 'mat-ci66', 1677, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke8,Bxd5,Qf6,Bxc6+,Qxc6,Qxc6+,bxc6,d3,Bc5,O-O,Rf8,Nc3,Ba6,Be3,Bd4,Na4,Bb5,Bxd4,exd4,Nc5,Rf5,Rfe1+,Kf7,b4,a5,a4,axb4,axb5', 'Rxa1,Rxa1,Rxc5', 'https://lichess.org/training/OI7Rq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oi7xf', 'Blitz', 'yky2012', 1683, 'yigithasan2011', 1557, 'e4,e5,d3,Nf6,Nf3,Bc5,Nxe5,d6,Nc4,O-O,Be3,Bxe3,fxe3,b5,Ncd2,d5,exd5,Nxd5,d4,Re8,Bd3,Nxe3,Qh5,Nxg2+,Kd1,g6,Qh6,Qe7,Ne4,Bg4+,Kd2,Bf5,Ng5,Qe3+,Kc3,b4+,Kxb4,a5+,Kb5,Bxd3+,Kc5,Na6+,Kc6,Qe2', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/oi7xf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oi9SO', 'Rapid', 'reinamomo', 1732, 'scissorhandz', 1757, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,a4,a6,h3,h6,O-O,Nf6,Kh2,O-O,c3,Ne7,Nbd2,Ng6,b4,Ba7,Ng1,c6,Ne2,d5,exd5,cxd5,Bb3,e4,d4,Re8,c4,Bb8+,g3,Nh4,Rg1,Nh5,cxd5,e3,fxe3,Rxe3,Nf1,Nf3+,Kh1,Qd7,g4,Nxg1,Kxg1,Rxh3,gxh5,Qg4+,Kf2,Qf3+,Ke1,Bg3+,Nexg3,Rxg3,Qxf3,Rxf3,Bc4,Bh3,Nh2,Re8+,Be2,Rf5,Kd1,Rxd5,Bb2,Rg5,Nf3,Rg2,Ne5,f6,Bc4+,Kf8', 'Ng6+,Rxg6,hxg6', 'https://lichess.org/training/Oi9SO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oiAg1', 'Rapid', 'cam1star', 1856, 'shardulme', 1869, 'e4,b6,d4,Bb7,d5,e6,c4,exd5,cxd5,Nf6,Nc3,Bb4,Bd3,Qe7,Qf3,Bxd5,Ne2,Bxe4,Bxe4,Qxe4,Qg3,Bxc3+,bxc3,d6', 'Qxg7,Rg8,Qxf6', 'https://lichess.org/training/oiAg1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oiB81', 'Blitz', 'davidferrier', 2250, 'FM Mirzaad786', 2375, 'd4,e6,c4,d5,Nc3,c6,Nf3,Bd6,e3,f5,Bd3,Nf6,O-O,O-O,b3,Nbd7,a4,Qe7,Bb2,Ne4,Nd2,Bb4,Rc1,Ndf6,f3,Nxd2,Qxd2,Bd7,Qe2,Bxc3,Bxc3,Rac8,e4,Rfe8,e5,Nh5,g3,g6,Kg2,Rf8,f4,Ng7,Qd2,Rfe8,Bb4,Qf7,Bd6,Red8,b4,Ne8,c5,h6,Qe2,Kg7,b5,Kh7,Rb1,Ng7,a5,g5,a6,bxa6,bxa6,gxf4,gxf4,Rg8,Kh1,Be8,Rb7,Qh5,Rxa7,Qh3,Rg1,Bh5,Rgxg7+,Rxg7,Rxg7+,Kxg7,Qg2+,Qxg2+,Kxg2,Rg8', 'a7,Ra8,Bb8', 'https://lichess.org/training/oiB81');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OiBSz', 'Rapid', 'Jumangnik', 1721, 'Ownedbyta', 1653, 'f4,d5,Nf3,Nc6,e3,Bg4,Be2,Nf6,O-O,h5,b3,e6,Bb2,h4,Nd4,Bxe2,Qxe2,Nxd4,Bxd4,c5,Bxf6,gxf6,Nc3,h3,g3,Qb6,Na4,Qc6,c4,O-O-O,Nc3,d4,exd4,cxd4,Nb5,Kb8,a4,d3,Qf3,Qc5+,Kh1,Qb4,f5,Qxd2,Rad1,Qc2,fxe6,fxe6,Ra1,Bb4,Rf2,Qxb3,Qxf6,a6', 'Qe5+,Bd6,Nxd6', 'https://lichess.org/training/OiBSz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OICB8', 'Classical', 'us_player', 2066, 'JaremaCool', 1922, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Nf3,Nc6,d3,Bg4,Be2,O-O-O,h3,Bh5,O-O,e5,Nh2,Bxe2,Qxe2,Bc5,Be3,Nd4,Qg4+,f5,Qd1,Rd6,a3,Rg6,f3,f4,Bf2,Qe6,Kh1,Bb6,c3,Nf5,d4,Rd8,Re1,Qb3,Qxb3,Ng3+,Kg1,exd4,Bxd4,Rxd4,Ng4', 'Rb4+,Kh2,Rxb3', 'https://lichess.org/training/OICB8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OIdFM', 'Blitz', 'Pavarotty', 2242, 'WFM ameliawfm', 2246, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,e5,Nb3,Be6,Be2,Be7,Qd2,a5,O-O,O-O,f3,a4,Nc1,d5,exd5,Nxd5,Nxd5,Qxd5,Nd3,Nd4,c3,Nxe2+,Qxe2,f6,Rfd1,Qb5,Qf2,Rfd8,Nc5,Bf5,Ne4,Rxd1+,Rxd1,Rd8,Rxd8+,Bxd8,Nd6,Qd7,Nxf5,Qxf5,Qd2,Be7,Qd1,b5,h3,Qe6,b3,axb3,axb3,Qc6,Qd3,g6,Kf2,Kf7,c4,bxc4,bxc4,Ke6,Qb3,Bc5,Bxc5,Qxc5+,Ke2,h5,Qd3,f5,Kd2,Qf2+,Kc3,Qe1+,Kb3,e4,Qd5+,Kf6,Qd6+,Kf7,Qd7+,Kf6,Qd8+,Kf7,Qd5+,Kf6,fxe4,fxe4,c5,Qb1+,Kc3,Qc1+,Kd4,e3,Qe5+,Kf7,Qxe3,Qb2+,Qc3,Qxg2,c6,Qg1+,Kc4,Qf1+,Qd3,Qc1+,Kd5,Qg5+,Kd6', 'Qd8+,Ke5,Qxd3', 'https://lichess.org/training/OIdFM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oIDLb', 'Rapid', 'maestro8906', 1714, 'vicente_gar_bra', 1835, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,c6,a4,e6,Bxc4,Be7,Nf3,O-O,O-O,h6,Bf4,a5,Qe2,Na6,Ne5,Nb4,Rad1,Kh8,Na2,Nxa2,Bxa2,Bb4,Bc4,Qe7,h3,g5,Bg3,Rg8,f4,Rg7,fxg5,hxg5,Qf3,Nd7,Ng4,f5,exf5,exf5,Qxf5,Nc5,Be5,Bxf5,Bxg7+,Kxg7,Rxf5,Ne6,Rdf1,Rf8,Re5,Rxf1+,Kxf1,Qf8+,Kg1,Nxd4,Rxg5+,Kh7,Bg8+,Qxg8', 'Nf6+,Kh6,Rxg8', 'https://lichess.org/training/oIDLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oidt3', 'Rapid', 'benthehorse', 1797, 'Neilus69', 1802, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,c3,c6,d4,d5,Bf4,Bg4,Nbd2,Nbd7,c4,Bxf3,Bxf3,Qb6,c5,Qxb2,Rb1,Qxd4,Rxb7,Qxc5,Nb3,Qa3,Qc2,e5,Bc1,Qa6,Rb4,Rab8,Rh4,Rfc8,Bd2,e4,Bg4,Nxg4,Rxg4,Qxe2,h4,Qxg4,Bf4,Rb7,Na5,Rb6,Be3,Rb5,Nxc6,Kh8,Qa4,Rb2,Bd4,Bxd4,Qxd4+,Kg8', 'Ne7+,Kf8,Nxc8,f6,Qxb2', 'https://lichess.org/training/Oidt3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OiDyO', 'Blitz', 'Kleiner-Patzer', 1706, 'tosten', 1852, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Nf3,Ne4,Qc2,Bb7,Bd3,Nxc3,bxc3,Bd6,e4,O-O,e5,Bxf3,Bxh7+,Kh8,gxf3,Be7,Rg1,d6,Bh6,g6,Bxg6,fxg6,Qxg6,Rg8', 'Bg7+,Rxg7,Qxg7#', 'https://lichess.org/training/OiDyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OIeCp', 'Rapid', 'AnAMeeN', 1913, 'Davidailen', 1895, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Nc3,b5,Bb3,Be7,d3,d6,O-O,Na5,Bd2,Nxb3,axb3,O-O,Ne2,c5,Ng3,h6,b4,Qc7,Qe1,Bb7,bxc5,Qxc5,Bc3,Rfe8,Nf5,Bf8,Rc1,g6,Bb4,Qc7,Ne3,a5,Bd2,Bg7,h3,Kh7,c4,b4,Nh2,Nd7,Nd5,Bxd5,cxd5,Nc5,Qe3,Qd7,Ng4,g5,h4,Qxg4,hxg5,hxg5,f3,Qf4,Qf2,Nxd3,Qe2,Nxc1,Rxc1,Qh4,Rc6,Red8,Be3,Bh6,Bf2,Qf4,Be3,Qf6,Qd2,Qe7,g4,f6,Qh2,Rh8,Qc2,Kg6,Rc7,Qd8,Bb6,Rc8,Rc6,Rxc6,Qxc6,Qc8,Bxa5,Qxc6,dxc6,Rc8,c7,Bg7,Kf2,Kf7,Ke3,Ke7,Kd3,Kd7,Kc4,Rxc7+,Bxc7,Kxc7,Kxb4,Bf8,Kb5,Be7,b4,Kb7,Kc4,Kb6,Kd5,Kb5,Ke6,Bd8,Kxd6,Kxb4,Kd7,Bb6,Ke6,Kc4,Kxf6,Be3,Kxe5,Kd3', 'Kf5,Ke2,e5,Kxf3,e6,Bc5,Kxg5', 'https://lichess.org/training/OIeCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oIf42', 'Blitz', 'GameOverBro2021', 1642, 'TGz0r', 1554, 'd4,d5,c4,dxc4,e3,b5,Nc3,c6,Nf3,Nd7,a4,b4,Ne4,Ba6,Nc5,Nxc5,dxc5,Qxd1+,Kxd1,Rd8+,Ke1,Nf6,Nd4,Ne4,Nxc6,Rd5,f3,Rxc5,Nxb4,Bc8,fxe4,Re5,Bxc4,Rxe4,b3,e6,Bb5+,Bd7,Kf2,Bxb4,Bxd7+,Kxd7,Rd1+,Ke7,Bb2,Rc8,Bxg7,Rc2+,Kf3,f5,Bh6,Rc3,Bg5+,Kf7,Rd7+,Kg6,h4,h6,Bf4,e5,h5+,Kxh5', 'Rh1+,Kg6,Rxh6#', 'https://lichess.org/training/oIf42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oIfsH', 'Blitz', 'tukangKipas', 1867, 'Gatoverde', 1859, 'd4,Nf6,c4,d6,Nc3,g6,Bg5,Bg7,e3,O-O,Bd3,Re8,Nge2,Nc6,a3,e5,d5,Ne7,e4,h6,Bd2,c6,Qc1,Kh7,O-O,cxd5,cxd5,Neg8,f4,Ng4,Ng3,Qb6+,Kh1,Nf2+', 'Rxf2,Qxf2,Be3,Qxg3,hxg3', 'https://lichess.org/training/oIfsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OiFuR', 'Classical', 'Comaroammar', 1992, 'quantizeddude', 2009, 'd4,d5,c4,e6,Nf3,c5,e3,Nc6,Nc3,Nge7,Bd3,g6,O-O,Bg7,dxc5,dxc4,Bxc4,Qxd1,Rxd1,O-O,Ne4,f5,Nd6,Kh8,Ng5,Rf6,b4,Rf8,Rb1,Nd8,Nxc8,Rxc8,Bxe6,Nxe6,Nxe6,Rfe8,Rd7,Bf6,Rxb7,Nd5,Rd7,Nc3,Rb3,Ne2+,Kf1,Nxc1,Rb1,Nxa2,Nd4,Re7,Rxe7,Bxe7,Ra1,Nxb4,c6,Nxc6,Rc1,Ra8,Rxc6,a5,Rc2,Kg7,Ra2,Kf6,Nc6,a4,Ke2,Ke6,Kd3,Bd6,g3,Kd5,Nd4,a3,Nb5,Ra5,Nc3+,Kc5,h4,Be5,f4,Bf6,e4,Kb4,e5,Be7,Kc2', 'Rc5,Rxa3,Kxa3', 'https://lichess.org/training/OiFuR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OIIiF', 'Rapid', 'RPotenza', 1869, 'MatheuzinhoDas9vinha', 1618, 'e4,c5,Bc4,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,Nf6,Nc3,e5,Qd3,Be7,O-O,O-O,h3,Qc7,Nh2,Rfd8,f4,d5,exd5,Nxd5,Nxd5,Rxd5,Qg3,Bc5+,Kh1,Bd6,Ng4,exf4,Bxf4,Bxf4,Rxf4,Rf5', 'Nh6+,Kh8,Nxf5', 'https://lichess.org/training/OIIiF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oIiwl', 'Rapid', 'dimasik-dim', 1917, 'Le_Grave_Musicien', 2125, 'e4,c5,Nf3,a6,d3,Nc6,a4,e6,Nc3,Be7,Be3,d6,g3,Nf6,Bg2,Qc7,O-O,O-O,Ne2,d5,Bf4,e5,Bd2,dxe4,dxe4,Nxe4,Nc3,Nxc3,Bxc3,Bg4,Qe2,f6', 'Qc4+,Kh8,Qxg4', 'https://lichess.org/training/oIiwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oiKd4', 'Rapid', 'Korendir', 1991, 'NOSMAS_REV0523', 1845, 'd4,Nf6,Bf4,e6,e3,Bd6,Bg5,h6,Bh4,g5,Bg3,h5,Nf3,h4,Bxd6,cxd6,Nxg5', 'Qa5+,Nc3,Qxg5', 'https://lichess.org/training/oiKd4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OiLi1', 'Rapid', 'toybex', 1874, 'imran_dhaka', 1888, 'd4,Nf6,Nf3,e6,Bg5,d5,e3,Be7,c4,c6,Nc3,O-O,c5,b6,b4,a5,a3,axb4,axb4,Rxa1,Qxa1,bxc5,bxc5,Qc7,Qa8,Bb7,Qa7,Na6,Bf4,Ra8', 'Qxa8+,Bxa8,Bxc7', 'https://lichess.org/training/OiLi1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OILlo', 'Classical', 'episkopal', 1695, 'kekwait26', 1642, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bc4,Qc7,Bb3,Nc6,Be3,Nf6,Nc3,b5,Qf3,Bb7,O-O,Nxd4,Bxd4,Be7,a3,O-O,Rfe1,d6,Qh3,Rac8,e5,Nd5,exd6,Bxd6,Nxd5,Bxd5,Bxd5,exd5,c3,Rfe8,Rxe8+,Rxe8,g3,a5,b4,Ra8,Qg4,f6,Bxf6,Be5,Bxe5,Qxe5,Qd4', 'Qxd4,cxd4,axb4', 'https://lichess.org/training/OILlo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oilqc', 'Rapid', 'msipahii', 1987, 'kopipait', 1978, 'd4,Nf6,e3,e6,Nc3,b6,Nf3,Bb7,Bd3,c5,dxc5,Bxc5,O-O,O-O,Nb5,Nc6,c3,d5,Ng5,h6,Nf3,e5,Bc2,e4,Nd2,Ne7,f3,a6,Nd4,Bxd4,cxd4,Qc7,fxe4,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Bd2,Nd5,Rc1,Qe7,Qb3,Qg5,Rf2,Rad8,Bb4,Nxe3,Re1,Nxg2,Rxe4,Nh4+,Kf1,Rde8', 'Rxe8,Rxe8,Qxf7+,Kh7,Qxe8', 'https://lichess.org/training/oilqc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OIOsx', 'Classical', 'maxvirga', 1888, 'sniper46', 1899, 'd4,Nf6,c4,c5,Nf3,g6,Nc3,Bg7,g3,O-O,Bg2,cxd4,Nxd4,a6,O-O,Nc6,Nxc6,dxc6,Qc2,Qc7,Rd1,b6,Bf4,e5,Be3,Ng4,Bc1,Bb7,h3,Nh6,Qb3,Nf5,Na4,Nd4,Qxb6,Qxb6,Nxb6,Rad8,Bf1,c5,Na4', 'Nf3+,exf3,Rxd1', 'https://lichess.org/training/OIOsx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oioXV', 'Rapid', 'Emetty', 1852, 'Redfox413', 1863, 'd4,d5,Bf4,Nc6,e3,f6,c3,e5,dxe5,fxe5,Bg3,Nf6,Bd3,e4,Bc2,Bg4,f3,Bh5,Nd2,b5,Ne2,Bd6,fxe4,Nxe4,Nxe4,dxe4,Bxe4,Na5,Bxa8,Qxa8,Bxd6,cxd6,O-O,Nc4,Qc2', 'Nxe3,Nd4,Nxc2', 'https://lichess.org/training/oioXV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oiquf', 'Rapid', 'Herizo', 1668, 'Udgin', 1601, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,Ng4,Be3,Nxe3,fxe3,Bxe3,Nxe5,Qe7,Qf3,Bd4,Nxf7,Bxb2,Nxh8,Bxa1,O-O,g6,Nf7,a6,Qh3,h5,Qe3,c5,e5', 'Bd4,Kh1,Bxe3,Nd6+,Kd8', 'https://lichess.org/training/oiquf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OiQXt', 'Blitz', 'dark-wizard1', 1836, 'PornoActor', 1875, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,e3,d6,Nge2,e5,O-O,Nc6,d4,exd4,exd4,Re8,Bg5,Bg4,Qb3,h6,Bxf6,Qxf6,Nf4,Nxd4,Qxb7,Rab8,Qxc7,Rxb2,Ncd5,Qe5,Rfe1,Qxe1+,Rxe1,Rxe1+,Bf1,Nf3+,Kg2,Bd4,Qd8+,Kg7,Nd3,Rxa2,h3,Bxh3+,Kxf3,Rxf1,Ne7,Bxf2', 'Qg8+,Kf6,Nd5+,Kg5,Qd8+,f6,Qxf6+,Kh5,N5f4#', 'https://lichess.org/training/OiQXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oIriN', 'Classical', 'Edit0895', 2005, 'apjpbm010', 2071, 'e4,c6,c3,d5,e5,Bf5,Nf3,e6,h3,c5,Bb5+,Nc6,O-O,Rc8,d4,Qb6,a4,a6,dxc5,Bxc5,Bd3,Nge7,b4,Bxd3,bxc5,Qxc5,Qxd3,Nf5,g4,Nfe7,Be3,Qc4,Qd2,Na5,Ra3,h5,Nd4,hxg4,hxg4', 'Rh1+,Kxh1,Qxf1+', 'https://lichess.org/training/oIriN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OISTA', 'Rapid', 'RussiaTheChampion', 1970, 'ralex88', 1970, 'd4,d5,c4,c6,Nc3,Nf6,e3,Bf5,cxd5,cxd5,Qb3,e6,Qxb7,Nbd7,Nf3,Bd6,Nb5,Bb4+,Bd2,Bxd2+,Nxd2,O-O,Be2,Qa5,Nd6,Rab8,Qa6,Qxa6,Bxa6,Rxb2,Nxf5,exf5,Bd3,Ne4,Bxe4,fxe4,Nb3,Rc8,O-O,Rcc2,Rfc1,Rxf2,Rc8+,Nf8,Nc5,Rxg2+,Kh1,Rxh2+,Kg1,Rhc2,Rd8,g6,Nd7,Rc3,Re1,Rxa2,Nxf8,Kg7,Nd7,a5,Ne5,Rc7,Rxd5,a4,Nd7,Rcc2,Rg5,h6,Rg3,h5,Ne5,a3,Rf1,Rc7,Rg2,Rxg2+,Kxg2,a2,Ra1,Rc2+,Kg3,f6,Nd7,g5,d5,f5,d6,h4+,Kh3,Kf7', 'Ne5+,Ke6,d7,Rd2,Rxa2', 'https://lichess.org/training/OISTA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OitIw', 'Classical', 'PigMachine', 1677, 'Simon6070', 1612, 'e4,e5,Nc3,a6,Nf3,Nc6,g3,h6,d4,Nf6,d5,Nb8,Nxe5,Bb4,a3,Bxc3+,bxc3,d6,Nd3,Nxe4,c4,Qf6,Be3,Nc3,Qc1,Ne4,Bg2,Nc3,Bd2,O-O,Qb2,Re8+,Kf1,Ne4,Qxf6', 'Nxd2+,Kg1,gxf6', 'https://lichess.org/training/OitIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oItJ2', 'Rapid', 'Rigobertoperez', 1625, 'LilFri_Ri', 1655, 'e4,c5,Bc4,e6,Qf3,Nc6,Ne2,Nf6,d3,d5,Bb3,b5,a3,c4,dxc4,dxc4,Ba2,Bd6,Nbc3,O-O,Bg5,Ne5,Qh3,a6,Rd1,Ng6,f4,e5,f5,Nf4,Nxf4,exf4,e5,Re8,O-O,Qb6+,Kh1,Bxe5,Bxf6,Bxf6,Rxf4,Re3,Rf3,Rxf3,Qxf3,Bb7,Nd5,Qd6', 'Nxf6+,Qxf6,Qxb7', 'https://lichess.org/training/oItJ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OIttS', 'Blitz', 'riemervantil', 1680, 'elschemali', 1609, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e3,d6,Rb1,e5,dxe5,dxe5,Qxd8,Rxd8,Nxe5,Bf5,Ra1,Ng4,Nxg4,Bxg4,h3', 'Bxc3+,Bd2,Bxd2#', 'https://lichess.org/training/OIttS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oItWE', 'Rapid', 'mahmoudx0', 1869, 'fecchan', 1837, 'e4,c5,Bc4,Nf6,d3,e6,Nf3,d5,exd5,exd5,Bb3,b5,a3,Bb7,Nc3,a6,Bf4,Be7,Qe2,O-O,O-O-O,Re8,Qd2,Nh5,Bg3,Nxg3,hxg3,Nc6,Nxd5,Nd4,Nxe7+,Rxe7,Nxd4,cxd4,f3,Qc7,g4,Rc8,Qg5,a5,a4,bxa4,Bxa4,Re5,Qh4,h6,f4,Rb5,Qf2,Rxb2,Kxb2,Qc3+,Ka2,Bd5+,Bb3,Rb8,Rb1,Rxb3,cxb3,a4,Rhc1,axb3+,Ka3', 'Qa5+,Kb2,Qa2#', 'https://lichess.org/training/oItWE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oiu7z', 'Bullet', 'Thomask1908', 1698, 'AKS1972', 1686, 'e4,d5,e5,e6,d4,c5,f4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,Bb4,Bb5,Bxc3+,bxc3,Bd7,O-O,Nge7,Ng5,O-O,Ba4,h6,Nf3,a6,g4,b5,Bc2,Rc8,Qd3,Ng6,Nh4,b4,Nxg6,fxg6,Qxg6,bxc3,f5,exf5,gxf5,Qb6+,Kh1,Nxe5,Qxb6,d4,Rg1,Bc6+,Rg2,Bxg2+,Kxg2,d3,Bb3+,Kh8,Ba3,Rfd8,Qe3,Ng4,Qg3,Nf6,h4,c2,Bxc2,dxc2,Rc1,Rd1,Qe3,Ng4,Qe6,Rcd8,Bb2,R1d2+,Kg3,Nf2,Qe7,R8d3+,Kf4,Nh3+,Kg4', 'Rg2+,Kh5,Nf4#', 'https://lichess.org/training/Oiu7z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oiUkV', 'Rapid', 'RAIMUNDUS', 1944, 'Belibiser', 1961, 'e4,e5,Bc4,Nc6,a3,Nf6,d3,Bc5,Nf3,O-O,Nc3,a6,Bg5,h6,Bh4,b5,Ba2,b4,axb4,Bxb4,O-O,Bxc3,bxc3,Nb8,Nxe5,d6,Ng6,Re8,f4,Be6,Bxe6,Rxe6,e5,dxe5,Nxe5,Nbd7,d4,Qe8,d5,Rd6,Nxd7,Qxd7,c4,Re8,Bg3,Ng4,Rf3,Ne3,Qd3,Nf5,Bf2,Rg6,g3,Nh4,Re3,Rxe3,Qxe3,Qh3,Qe4,f5,Qh1,Qg4,Kf1,Nf3,Rd1,Qh3+,Ke2,Nxh2,Kd3,Ng4,Qf3', 'Nxf2+,Qxf2,Rxg3+', 'https://lichess.org/training/oiUkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oIVBn', 'Rapid', 'Iron_Roughneck', 1837, 'faraz12', 1790, 'e4,e5,Nf3,d6,Nc3,c6,Bc4,h6,O-O,Nf6,d4,exd4,Nxd4,Be7,Qf3,b5,Be2,c5,Nf5,Bxf5,Qxf5,b4,Nd5,Nxd5,exd5,O-O,Qg4,Bg5,f4,f5,Qg3,Bh4,Qg6,Nd7,Qxd6', 'Rf6,Qe5,Nxe5', 'https://lichess.org/training/oIVBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OiVoq', 'Classical', 'SamAA', 1705, 'jglovergreen', 1702, 'e4,e5,Nc3,f5,exf5,Nf6,g3,d5,Bg2,Bxf5,Nge2,Nc6,d3,d4,Ne4,h6,c3,dxc3,N2xc3,Nd4,O-O,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/OiVoq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OIVx9', 'Blitz', 'vadar', 2152, 'manontropo', 2112, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Qc7,Qg4,f5,Qg3,cxd4,cxd4,Ne7,Bd3', 'Qc3+,Ke2,Qxa1', 'https://lichess.org/training/OIVx9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OIwAq', 'Blitz', 'dome475', 1695, 'Elnidodelcuco', 1727, 'd4,e6,c4,d5,Nc3,f5,Nf3,Nf6,Bg5,Be7,cxd5,exd5,Bf4,c6,h3,O-O,e3,Ne4,Be2,Nd7,O-O,Ng5,Qb3,Nxf3+,Bxf3,Kh8,a3,Nf6,Qc2,Ne4,b4,Bd6,Bxd6,Qxd6,Nxe4,fxe4,Be2,Qg6,Kh1,Qh6,Kh2,g5,Qd1,g4,Bxg4,Bxg4,Qxg4,Rg8,Qe2,Rg7,f4,Rag8,Rg1,Qh4,Raf1,Rg3,Qf2,Qf6,f5,h5,Qe2,Qg5,Rf4', 'Rxh3+,gxh3,Qxg1#', 'https://lichess.org/training/OIwAq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OIWBf', 'Rapid', 'GeirM', 1714, 'joseluis75', 1630, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,Bb4,Be2,Nge7,O-O,d6,Qd3,Ne5,Qd2,b5,a3,Ba5,b4,Bb6,f4,Nc4,Bxc4,bxc4,Qe2,Bb7,Kh1,O-O,Qxc4,Rc8,Qd3,d5,exd5,Nxd5,Nxd5,Bxd5,Rac1,Bc4,Qe4,Bxf1,Rxf1,Bxd4,Bxd4,Rc4,c3,Qd5,Qe3,Rfc8,Qg3,f6,Qg4,R8c6,Bxf6,Rc7,Be5', 'Qxe5,fxe5,Rxg4', 'https://lichess.org/training/OIWBf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OiwEs', 'Rapid', 'rplusy', 1601, 'themaker', 1844, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,d3,Nd4,Qd1,Bg7,Bb3,O-O,Be3,Nxb3,cxb3,d6,Nf3,Be6,Nc3,c6,O-O,d5,Bc5,Re8,exd5,cxd5,Nxe5,b6,Ba3,Rc8,Nb5,a6,Nd6,Nh5,Nexf7,Bxf7,Nxc8,Qxc8,Rc1,Qd7,Qf3,b5,Rfe1,Rxe1+,Rxe1,a5,Bc5,Qc7,Re7,Qf4,Qe2', 'Qc1+,Qe1,Qxc5', 'https://lichess.org/training/OiwEs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oix0n', 'Rapid', 'fco_garmx', 1671, 'chuck3r', 1667, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Be3,d5,Nc3,dxe4,Nxe4,Nxd4,Bxd4,b6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Rd8,c3,f6,Qh5+,Ke7,Rad1,Qc6,Rfe1,g6,Qf3,Bg7,h3,Nh6,Nxf6', 'Qxf3,gxf3,Bxf6,Bxf6+,Kxf6', 'https://lichess.org/training/oix0n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oIX6K', 'Classical', 'FM cheburashka15', 2421, 'elena_zatsarnaya13', 2087, 'e4,d6,d4,g6,Nc3,c6,f4,d5,e5,h5,Nf3,Bg4,h3,Bf5,Bd3,Nh6,Ng5,e6,Be3,Bb4,Bxf5,Bxc3+,bxc3,Nxf5,Bf2,Qa5,Qf3,Qa4,g4,Ne7,Rb1,b6,f5,Qxc2,O-O,hxg4,hxg4,gxf5,Kg2,Rg8,Qe3,fxg4,Rbc1,Qg6,Bh4,Nf5,Rxf5,exf5,e6,f6,Nf7,Kf8,Rf1,Qh7,Nh6,Rh8,Nxf5,Ke8,Nd6+,Kd8,Bxf6+,Kc7,Bxh8,Qh3+,Qxh3,gxh3+,Kxh3,Kxd6,Rf8,Ke7,Rc8,Kxe6,Be5,Kd7,Rxb8,Rxb8,Bxb8,a6,Ba7', 'Kc7,Kg4,Kb7,Bb8,Kxb8', 'https://lichess.org/training/oIX6K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oiXpO', 'Rapid', 'tollefan', 1944, 'Alo-4000', 1983, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,c5,c3,cxd4,exd4,Nc6,Bd3,Bd6,Bg5,O-O,Nbd2,h6,Bh4,e5,dxe5,Nxe5,Nxe5,Bxe5,O-O,Qd6,Bg3,Re8,Bxe5,Rxe5,Nf3,Bg4,Be2,Re7,Re1,Rae8,Nd4,Bxe2,Rxe2,Ne4,Nb5,Qc5,Qd3', 'Nxf2,Rxf2,Re1+,Rxe1,Rxe1+', 'https://lichess.org/training/oiXpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OixSw', 'Rapid', 'AIVARS2000', 2193, 'JEDIUS', 2187, 'd4,Nf6,Nc3,d5,Bg5,e6,e4,dxe4,Nxe4,Be7,Bxf6,Bxf6,Nf3,Nd7,Bc4,O-O,O-O,b6,c3,Bb7,Qe2,c5,Rad1,Qc7,d5,exd5,Bxd5,Bxd5,Rxd5,Rfe8,Rfd1,Qf4,Rxd7,Rxe4,Qa6,Ra4,Qb7,Rb8,Qd5,Rf8,a3,Ra5,Re1,c4,Qb7,Qf5,Nd4,Bxd4,cxd4,Qc2,d5,Qxb2,d6,c3,Qf3,c2,Rxf7,Rd8,Rc7,Re5', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/OixSw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oiXXN', 'Rapid', 'Elkamikaze', 1731, 'vpetkov', 1947, 'd4,Nf6,Nf3,e6,c4,c5,d5,exd5,cxd5,d6,Nc3,g6,Qc2,Bg7,e4,O-O,Be2,Re8,O-O,Bg4,Nd2,Bxe2,Nxe2,a6,a4,Nh5,Nc4,Qc7,Nf4,Nf6,Re1,g5,Nh3,Nxd5,Bxg5,Nb4,Qd2,Bd4,Bh6,Kh8,Bf4,Re6,Ng5,Rg6,Bxd6,Qc6,Nxf7+,Kg7,Ng5,Rxd6,Nxd6,Qxd6,Rad1,N8c6,Nf3,Rf8,e5,Qg6,Nxd4,Nxd4,Kh1,Nd5,Qa5,Rxf2,Rg1,Ne2,Qxc5', 'Ng3+,hxg3,Qh6#', 'https://lichess.org/training/oiXXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OiZp7', 'Rapid', 'Miron96', 1704, 'Chlebson', 1686, 'd4,Nc6,e4,e6,Nf3,Nf6,Nc3,Bb4,Qd3,O-O,Bd2,a6,Be2,d5,e5,Bxc3,Bxc3,Ne4,O-O,Nxc3,bxc3,h6,c4,Nb4,Qb3,a5,cxd5,Nxd5,c4,Nf4,Rfe1,c6,Bd1,b5,cxb5,cxb5,Qxb5,Ba6,Qa4,Bb7,Rb1,Bxf3,Bxf3,Nd3,Bxa8,Nxe1,Rxe1,Qxa8,f4,Rb8,Qc2,Qd5,Re4,f5,exf6,gxf6,Re3,Qxd4,Kf2', 'Rb2,Qxb2,Qxb2+', 'https://lichess.org/training/OiZp7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OIzVg', 'Blitz', 'Mogelvogel', 2582, 'FM Mortn', 2393, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,c5,d5,d6,e4,O-O,Bd3,a6,Ne2,b5,O-O,exd5,cxd5,c4,Bc2,Nbd7,Kh1,Bc5,Nd4,Ne5,Bg5,Qb6,Nce2,Nfd7,Rb1,a5,b3,Ba6,Nf5,cxb3,axb3,b4,f4,Ng4,Ned4,Ne3,Nxe3,Bxf1,Nef5,Bxd4,Nxd4,Bb5,Nf5,f6,Qh5,g6', 'Ne7+,Kf7,Qxh7+', 'https://lichess.org/training/OIzVg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oJ1dX', 'Classical', 'gfox13', 1975, 'Kappow', 2006, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,h3,Nf6,Bg5,O-O,Be2,Bf5,Nc3,c6,Qd2,h6,Be3,Nbd7,g4,Bh7,g5,hxg5,Nxg5,Re8,Nxh7,Nxh7,Rg1,Ndf6,O-O-O,Ne4,Nxe4,Rxe4,Bh6,g6,c3,Qh4,Bd3,Re6,Be3,Rae8,Bf5,Rf6,Bg4,Re4,Kb1,Bf4,Bxf4,Rexf4,f3,Nf8,Rde1,Ne6,Re3,Ng7,Qe2,Nf5,Bxf5,R6xf5,Qg2,Qh7,Qg3,Rf6,a3,Qh5,Rf1,R6f5,Re5,Rxf3,Rxf3,Qxf3,Re8+,Kg7,Qh4,Rh5,Qe7,Rh8', 'Qe5+,Qf6,Qxf6+,Kxf6,Rxh8', 'https://lichess.org/training/oJ1dX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oj3i8', 'Rapid', 'TimJones72', 1944, 'Zarathustrat', 1970, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,h6,Bd3,Bd7,O-O,Bd6,Re1,O-O,c3,Bc6,Ne5,Qh4,g3,Qh3,Nxc6,Nxc6,Bc2,Ne7,Qd3,Nf5,Re4,Rfe8,Bd1,h5,Bf3,Nh6,Rh4,Qf5,Be4,Qf6,Rxh5,Nf5,Bg5,Qg6,Qf3,f6,Bd2,Qf7,Bxf5,exf5,Qxf5', 'g6,Qg4,f5,Rxf5,Qxf5,Qxf5,gxf5', 'https://lichess.org/training/oj3i8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oj6Pi', 'Rapid', 'Da4o83', 1602, 'Premoved', 1973, 'b4,e5,Bb2,f6,a3,a5,bxa5,d5,Bc3,Nc6,Nf3,Nxa5,Bxa5,Rxa5,a4,Bd7,c3,Qa8,e3,Bxa4', 'Rxa4,Rxa4,Bb5+', 'https://lichess.org/training/oj6Pi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oj6uN', 'Blitz', 'dufo14', 2291, 'FM Kleinseelheim', 2313, 'e4,Nf6,Nc3,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Be3,Ng4,Bg5,Qb6,Nce2,Nxf2,Kxf2,e5,Be3,exd4,Bxd4,Nxd4,Qxd4,Qxd4+,Nxd4,Be7,Bc4,O-O,Rhf1,a6,Bd5,Rb8,Kg1,Bf6,c3,b5,Nc6,Rb6,Rxf6,gxf6,Rf1,Kg7,Rf3,Be6,Rg3+,Kh8,Nb4,a5,Nd3,Bxd5,exd5,Re8,Nf4,Re5,b3,Rb7,c4,bxc4,bxc4,Rb2,h3,Rxa2,Rb3,h5,Rb6,Rc2,Rxd6,Rxc4,Rxf6,Re1+,Kf2,Ree4,g3,h4,Nh5,hxg3+,Kxg3,Re3+,Kf2,Rxh3,Nf4,Rh7,Ra6,Rxf4+,Ke3,Ra4,d6,f5,Ra8+,Kg7,d7,Ra3+,Kf4,Rd3,d8=Q,Rxd8,Rxd8,Kf6,Rd6+,Ke7,Ra6,a4', 'Ra7+,Kd6,Rxh7', 'https://lichess.org/training/Oj6uN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oJ81V', 'Rapid', 'Czarwallace', 1868, 'potato7890', 1822, 'e4,e6,Nc3,d5,exd5,exd5,Be2,d4,Ne4,Bf5,f3,Bxe4,fxe4,Qh4+,g3,Qxe4,Nf3,Nc6,O-O,Bc5,d3,Qd5,Ng5,f6,Bf3,Qd7,Ne4,Bb6,Re1,O-O-O,a4,a5,Bd2,f5,Nf2,Nf6,b4,axb4,a5,Nxa5,Bxb4,Nc6,Ra8+,Nb8,Qa1,Nd5,Rb1,Rde8,Ba5,Re6,Qa2,Nc3,Bxc3,dxc3,Kg2,Rhe8,Ra1,Qd4,Rxb8+,Kd7,Rxe8', 'Qxf2+,Kh3,Rh6+,Bh5,Rxh5#', 'https://lichess.org/training/oJ81V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ojcdr', 'Rapid', 'kemo1144', 1925, 'Ura_Ura', 1687, 'e4,c5,d4,e6,Nf3,a6,Bc4,b5,Be2,c4,b3,cxb3,cxb3,g6,O-O,Bg7,Bg5,f6,Bf4,Nc6,Nc3,e5,dxe5,fxe5,Bg5,Bf6,Be3,Qa5,Nd5,Bb7,Bb6,Qa3,Nc7+,Kf8,Nxa8,Bxa8,Qxd7,Nge7,Rac1,Qxa2,Bc5,Qxe2,Bxe7+,Bxe7,Rxc6,Bxc6,Qxc6,Qb2,h3,Kg7,Qxa6,Qxb3,Nxe5,Kh6,Qb7,Qe6,Qxb5,Bd6,Ng4+,Kg7,Qb2+,Kg8,Nh6+,Kf8,Qxh8+,Ke7,Rb1,Qd7,Qg7+,Ke6,Qd4,Bh2+,Kxh2,Qxd4,Ng4,Qxe4,Rb6+,Kf5,Rf6+,Kg5,f4+,Kh5,Ne5,Qd5,Rf7,h6', 'g4+,Kh4,Nxg6#', 'https://lichess.org/training/Ojcdr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJcIc', 'Rapid', 'AnastasiaP2009', 1975, 'JC-FS', 1888, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,Qb6,Nf3,cxd4,cxd4,Bb4+,Kf1,O-O,g3,f6,exf6,Rxf6,Kg2,e5,Qb3,e4,Qxd5+,Kh8,Qxe4,Nce5,dxe5,Nxe5,Qxe5,Bg4,Ned4,Bc5,Bg5,Bxf3+,Nxf3,Rxf3,Kxf3,Rf8+,Kg2,Rxf2+,Kh3,Qc6,Rhf1,Qg2+,Kg4,Qf3+,Kh3,Qg2+,Kh4', 'Qxh2+,Kg4,h5#', 'https://lichess.org/training/OJcIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oJDnE', 'Blitz', 'RealGrandgousier', 2172, 'tattau', 2391, 'e4,c5,b3,Nc6,Bb2,e5,Bc4,d6,d3,g6,f4,Bg7,Nf3,Nge7,O-O,O-O,fxe5,Nxe5,Nxe5,Bxe5,Bxe5,dxe5,Nc3,Qd4+,Kh1,Qxc3,Qf3,Be6,Qf6,Bxc4,Qxe7,Be6,Qxb7,Qxc2,Rf6,Qxd3,Raf1,Qd7,Qa6,Rad8,h4,h5,Qe2,Bg4,Qe3,Kg7,Qg5,Qd2,Qxe5,Kh7', 'Rxf7+,Rxf7,Rxf7+,Kh6,Qg7#', 'https://lichess.org/training/oJDnE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJE18', 'Classical', 'spoint', 1755, 'FaMilan99', 1744, 'e4,c5,Nf3,Nc6,Bb5,d6,d4,cxd4,Nxd4,Bd7,O-O,e5,Nf3,Nf6,Bg5,a6,Bc4,Be7,Nc3,O-O,Nd5,Nxd5,Bxe7,Ndxe7,Ng5,Ng6,Qh5,h6,Nxf7,Rxf7,Qxg6,Be8,Rad1,Nd4,c3,b5,cxd4,bxc4,dxe5,Rxf2,Qxd6,Rxf1+,Rxf1,Qxd6,exd6,Bd7,e5,Re8,Re1,Kf7,Kf2,Ke6,Kf3,Kf5,g4+,Kg6,Kf4,Kh7,Re4,g5+,Kg3,Be6,h4,Kg6,h5+,Kg7,Re3,c3,Rxc3,Bxa2,Rc7+,Kf8,Rh7,Rxe5,Rxh6,Ke8,Rg6,Bf7,Rf6,Re6', 'd7+,Kxd7,Rxf7+', 'https://lichess.org/training/OJE18');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJeIg', 'Rapid', 'Yar09', 2010, 'feodor77', 2154, 'e4,e5,Nf3,d6,d4,Nf6,dxe5,Nxe4,Bc4,Be6,Bxe6,fxe6,O-O,d5,Nbd2,Nxd2,Bxd2,Be7,Nd4,Qd7,Qg4,Kf7,f4,g6,Qh3,Bc5,Bc3,Nc6,f5,exf5,Rad1,Bxd4+,Bxd4,Qe6,g4,Nxd4,Rxd4,Qxe5,Rdf4,Rae8,gxf5,Qe3+,Qxe3,Rxe3,fxg6+,Kxg6,Rf6+,Kg5,R1f5+,Kg4,Rf4+,Kg5,h4+,Kh5,Kf2,Rhe8,R6f5+,Kg6', 'Rg5+,Kh6,Rf6#', 'https://lichess.org/training/OJeIg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJEos', 'Classical', 'HaethRP', 1651, 'rouketas', 1687, 'd4,e6,c4,d6,e4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be6,O-O,dxc4,Bxc4', 'Bxc4,Qa4+,b5', 'https://lichess.org/training/OJEos');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojF0j', 'Rapid', 'YoelOlmedo', 1791, 'Zachee', 1786, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be2,h5,Bg5,Qd4,O-O,Ng4,Nd2', 'Nxf2,Rxf2,Qxf2+', 'https://lichess.org/training/ojF0j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojftZ', 'Classical', 'RomaLih4', 2061, 'Collins1968', 2173, 'Nf3,d5,e4,dxe4,Ng5,f5,Bc4,Nh6,d4,Nc6,Nxh7,Ng4,Ng5,Qxd4,Bf7+,Kd7,O-O,e5,h3,Nf6,Ne6,Qxd1,Rxd1+,Ke7,Nxc7,Kxf7,Nxa8,Nd4,Na3,Bxa3,bxa3,Nxc2,Rb1,b6,Nc7,Be6,Bb2,e3,Bxe5,e2,Rdc1,e1=Q+,Rxe1,Nxe1,Rxe1,Bxa2,Bd6,Ne4,Be5,Rd8,f3,Nc5,Nb5,Nd3,Re2,Nxe5,Rxa2,a6,Nc7,a5,a4,Rd4,f4,Rxf4,Nd5,Rd4,Nxb6,Nc4,Nc8,Rd2,Rxd2,Nxd2,Kf2,Ke6,Ke3,Nc4+,Kd4,Nb2,Nb6,Kd6', 'Nc4+,Nxc4,Kxc4,Ke5,Kb5', 'https://lichess.org/training/ojftZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJGuJ', 'Rapid', 'mam0061', 1781, 'ahmd11', 2034, 'e4,c5,c3,Nc6,f4,Nf6,Bc4,Nxe4,Bxf7+,Kxf7,Qh5+,Kf6,Nf3,g6,Qd5,Nd6,O-O,e6,Qg5+,Kg7,Qxc5,Qb6,d4,Qxc5,dxc5,Ne4,b4,a5,Bb2,Kf7,b5,Bxc5+,Kh1,Nd8,Ng5+,Nxg5,fxg5+,Ke7,c4,Rf8,Bf6+,Ke8,Nc3,Nf7,Ne4,b6,Bg7,Bb7,Nf6+,Ke7,Rad1,Rfd8,Nxd7,Be4', 'Bf6+,Ke8,Bxd8,Rxd8,Nf6+', 'https://lichess.org/training/OJGuJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojh5w', 'Classical', 'Avengers123', 1854, 'mohammad9455', 1650, 'e4,e6,d4,d5,Nc3,c6,exd5,cxd5,Bd3,Nf6,Bg5,Be7,Nf3,Nc6,O-O,O-O,Bxf6,Bxf6,Ne5,Bxe5,Bxh7+,Kxh7,Qh5+,Kg8,dxe5,g6,Qe2,Qg5,f4,Qh4,g3,Qh3,Rad1,Kg7,Qg2,Qf5', 'g4,Qe4,Nxe4', 'https://lichess.org/training/ojh5w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJhO8', 'Blitz', 'rafouf', 2056, 'DKEMS', 1691, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,Bc4,Nf6,f3,O-O,Qd2,Nxd4,Bxd4,a6,g4,Bd7,h4,b5,Bb3,Qa5,h5,Rfc8,hxg6,hxg6,Qh2,e5,Be3,Rxc3,bxc3,Qxc3+,Kf2,d5,Bh6,Bxg4,Bxg7,Qxf3+,Kg1,Kxg7', 'Qh6+,Kg8,Qh8#', 'https://lichess.org/training/OJhO8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oJi56', 'Rapid', 'itay121', 2184, 'AnaRhisT12', 1963, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c4,b4,Nc2,a5,g3,Be6,Bg2,Bxd5,Qxd5,Qd7,Rd1,Rd8,O-O,O-O,b3,g6,Ne3,Bg7,c5,Nd4,cxd6,Qxd6,Qxa5,Ra8,Nc4,Qe7,Qb6,Rfb8,Qd6,Qxd6,Nxd6,Rxa2,f4,Ne2+,Kh1,exf4,gxf4,Rb2,e5,Rxb3,Nxf7,Kxf7', 'Bd5+,Ke7,Bxb3', 'https://lichess.org/training/oJi56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oJila', 'Blitz', 'ragabove', 2427, 'IM Takacsbl', 2569, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,O-O-O,d5,Kb1,Nxd4,Bxd4,dxe4,fxe4,a6,Be2,Qc7,h3,e5,Be3,Be6,Bf3,Rfd8,Nd5,Bxd5,exd5,e4,Be2,Rxd5,Qe1,Rad8,Rxd5,Rxd5,g4,Rd7,h4,Nd5,Bc1,Qb6,Ka1,Rc7,c4,Nb4,Kb1,Nd3,Bxd3,exd3,h5,Rxc4', 'Qe8+,Bf8,Bh6', 'https://lichess.org/training/oJila');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oJJQH', 'Blitz', 'AustinNguyen', 2005, 'canyigit26', 2036, 'e4,c5,Nf3,d6,c3,Nf6,h3,Bd7,Bd3,Nc6,O-O,e6,Re1,Be7,Bc2,O-O,d4,h6,e5,dxe5,dxe5,Nd5,Qd3,f5,exf6,Nxf6,Be3,e5,Qc4+,Kh8,Na3,b6,Rad1,Qc8,Qh4,Ng4,Qh5,Nxe3,Rxe3,Bf5,Bxf5,Rxf5,Qg6,Rf6,Qg3,e4,Nh4,Qe6,Rde1,Bd6,Qg4,Qxg4,hxg4,Raf8,R1e2,g5,Nf5,Ne7,Nxd6,Rxd6,Rxe4,Ng6,Nc4,Rd1+,Kh2,Nf4,R2e3,Rf1,Rf3,Rd8,Re7,Rdd1,Ne5', 'Rh1+,Kg3,Ne2#', 'https://lichess.org/training/oJJQH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojJQL', 'Classical', 'Fb5', 1624, 'sedric', 1707, 'Nf3,d5,d4,e6,c4,Nf6,e3,Nc6,cxd5,Nxd5,Bb5,Bd7,Nc3,Nxc3,bxc3,a6,Bxc6,Bxc6,Ne5,Qe7,O-O,f6,Nxc6,bxc6,e4,Qd8,c4,Be7,Bb2,O-O,Rc1,e5,dxe5,fxe5,Qxd8,Raxd8,Bxe5,Rd7,Rb1,Bd6,Bxd6,Rxd6,Rb4,c5,Rb2,Rfd8,f4,Rd4,e5,Kf7,Rc2,Ke6,g4,Rf8,f5+,Kxe5,Re1+,Kf4,Re7,Kxg4,Rxg7+,Kf4,Rxh7,Rxf5,Rf2+,Ke4', 'Re7+,Kd3,Rxf5', 'https://lichess.org/training/ojJQL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oJJWo', 'Blitz', 'zoroka', 1791, 'Artyom_Tim', 1784, 'e4,c5,g3,d6,Bg2,Nc6,Ne2,Nf6,c3,Bg4,O-O,e5,f3,Bh5,d4,cxd4,cxd4,exd4,Nxd4,Nxd4,Qxd4,Be7,Bg5,Rc8,Nc3,d5,exd5', 'Bc5,Qxc5,Rxc5,Rae1+,Kf8', 'https://lichess.org/training/oJJWo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojk8Z', 'Rapid', 'Noblunder', 2148, 'checkmonk', 1917, 'd4,d5,c4,e6,Nf3,Be7,Nc3,Nf6,Bf4,O-O,e3,Nbd7,Bd3,dxc4,Bxc4,c5,O-O,cxd4,exd4,Nb6,Bd3,a6,Rc1,Bd7,Ne5,Nbd5,Bg3,Re8,Qf3,b5,Nxd5,exd5,h3,h6,Nxd7,Qxd7,Rc7,Qd8,Rfc1,Bd6,Bxd6,Qxd6,R7c6,Qf8,Rxf6,gxf6,Qxf6,Qg7,Qf5,Red8,Rc6,Ra7,Rf6,Rad7,Qf4,Rd6', 'Rxd6,Rxd6,Qxd6', 'https://lichess.org/training/ojk8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJKk6', 'Blitz', 'EganBernal', 2520, 'FM Mikhail_Gorozhanin', 2394, 'e4,e6,d4,d5,Nd2,Nf6,Bd3,c5,dxc5,Bxc5,Qe2,Nc6,Ngf3,a6,c3,b5,O-O,Bb7,a4,b4,c4,d4,e5,Nd7,Ne4,Be7,Bf4,h6,g3,g5,Bd2,Ncxe5,Nxe5,Nxe5,Nxg5,Nxd3,Nxe6,fxe6,Qxd3,Qd6,Qg6+,Kd7,Rae1,e5,Qf5+,Kc7,Rxe5,Raf8,Qh5,Bf3,Rxe7+,Qxe7,Qa5+,Kb8,Re1,Qb7,Bf4+,Ka8,Re6,Rxf4', 'Rxa6+,Qxa6,Qxa6+', 'https://lichess.org/training/OJKk6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oJLtf', 'Blitz', 'AshutoshVerma10', 1722, 'glt-08', 1746, 'e4,c6,d4,d5,e5,Bf5,c4,e6,c5,Nh6,Nf3,Bg4,Be2,a5,Bxh6,gxh6,h3,Bh5,a4,b6,cxb6,Qxb6,b3,Bb4+,Nbd2,c5,dxc5,Bxc5,Bb5+,Nc6,O-O,O-O,Qc2,Nb4,Qc3,d4,Qc1,Rac8,Nc4,Qc7,Nh4,Be2,Qxh6,Bxf1,Rxf1,d3,Nf3,Be7,Ng5,Bxg5,Qxg5+,Kh8,Qf6+,Kg8,Ne3,d2,Ng4,Rfd8,Nh6+,Kf8,Qh8+,Ke7,Qf6+,Kf8,Qh8+,Ke7,Ng8+,Rxg8,Qf6+,Kf8,Rd1,Qc1,Qh6+,Rg7,Qxd2,Qxd2,Rxd2,Rc1+,Kh2,Rc2', 'Rd8+,Ke7,Re8#', 'https://lichess.org/training/oJLtf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojmYq', 'Rapid', 'razzledazzle81', 2156, 'Bezmaternykh', 2239, 'e4,c5,d4,cxd4,c3,d6,Nf3,Nf6,Bd3,Nc6,cxd4,Bg4,Be2,Nxe4,d5,Qa5+,Nc3,Nxc3,bxc3,Bxf3,Bxf3,Qxc3+,Bd2,Qe5+,Kf1,Nb8,Qa4+,Nd7,Re1,Qf5,Be4,Qf6,g3,a6,Bd3,g6,Bb5,Rd8,Bxd7+,Rxd7,Kg2,Bg7,Rc1,b5', 'Rc8+,Rd8,Rxd8+', 'https://lichess.org/training/ojmYq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJnrR', 'Rapid', 'asanaly', 1982, 'VIJAK', 1904, 'e4,e6,d4,c5,c3,cxd4,cxd4,d5,e5,Bb4+,Nc3,Ne7,Bd3,a6,Ne2,Bd7,O-O,O-O,Bg5,h6,Bh4,Qe8,a3,Bxc3,bxc3,Ng6,Bg3,Bc6,Qc2,Nd7,Bxg6,fxg6,Nf4,Rf5,h4,Nf8,Nh3,Qe7,f4,Nd7,Rf3,Raf8,Be1,Nb6,g4,R5f7,Kh2,Be8,Bg3,Nc4,a4,Qc7,Ng1,Nb6,Ne2,Qc4,a5,Na8,Nc1,Nc7,Qb3,Qc6,Nd3,Nb5,Nc5,Re7,Bf2,Qc7,c4,Na7,cxd5,exd5,Qxd5+,Kh8,Qe4,Qd8,Nxb7,Qa8,Nc5', 'Bc6,Qxg6,Bxf3', 'https://lichess.org/training/OJnrR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojnuQ', 'Rapid', 'Valentage', 1869, 'Buroksaltis', 1819, 'd4,f5,g3,Nf6,Bg2,g6,c4,d5,cxd5,Nxd5,Nc3,Nxc3,bxc3,Bg7,Nh3,O-O,O-O,Be6,Re1,c6,e4,fxe4,Rxe4,Bd5,Nf4,Bxe4,Bxe4,Qd6,Qb3+,Kh8,Ba3,Qd7,Ne6,Rf7,Nc7,Qxc7,Qxf7,Na6,Qxe7', 'Qxe7,Bxe7,Re8', 'https://lichess.org/training/ojnuQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojoWl', 'Blitz', 'GOAT11', 2057, 'Leechess_is_my_beach', 1814, 'd4,e6,c4,d5,Nc3,c6,e4,dxe4,Nxe4,Bb4+,Bd2,Qxd4,Bxb4,Qxe4+,Be2,Na6,Ba5,b6,Qd6,bxa5,f3,Qh4+,g3,Qd8,Qxc6+,Bd7,Qxa6,Rb8,Qd6,Rxb2,Nh3,Qb6,Qe5,Nf6,O-O-O,Rb1+,Kc2,Ba4+,Kd3,Bxd1,Rxd1,Rxd1+,Bxd1,O-O,Bb3,Rd8+,Kc2,Qd4,Qe2,e5,Nf2,Qd6,Ne4,Nxe4,fxe4,Qh6,a4,g6,c5,Rc8,Qf2,Qh5', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/ojoWl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OjOZV', 'Blitz', 'FM renanreis', 2352, 'Islamov2', 2210, 'e4,b6,d4,Bb7,Bd3,e6,Nf3,c5,c3,Nf6,Qe2,Be7,O-O,Nc6,Na3,cxd4,cxd4,Nb4,Bb1,Ba6,Nb5,d6,a3,Qd7,axb4,Bxb5,Bd3,Bxd3,Qxd3,O-O,Bd2,d5,Ne5,Qb7,exd5,Nxd5,b5,Bf6,Ng4,h5,Nxf6+,Nxf6,Ra3,Nd5,Qh3,g6,Rg3,Kh7,Re1,a6,bxa6,Qxa6,Rg5,Nf6,Qf3,Kg7,Bc3,Nd5,Qxh5,Rh8,Qf3,Qa7,h3,Qc7,Rxd5,exd5,Qxd5,Rhe8,Re4,Rad8,Qg5,Rxe4,d5+,Kf8,g3,Qe7,Bf6,Re1+,Kh2,Qe4', 'Qh6+,Ke8,Qh8+,Kd7,Qxd8#', 'https://lichess.org/training/OjOZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJpAN', 'Blitz', 'XadrezSJP', 2198, 'CM BrutneySpears', 2322, 'd4,Nf6,Nf3,d5,e3,e6,Bd3,b6,O-O,Bb7,b3,Nbd7,Bb2,Bd6,Nbd2,O-O,c4,a6,Rc1,Rc8,Ne5,Ne4,f3,Nxd2,Qxd2,Bxe5,dxe5,dxc4,Bxc4,Qe7,f4,Rfd8,Qf2,Nc5,Ba3,Qd7,Bxc5,bxc5,Be2,Qc6,Bf3,Qb6,Bxb7,Qxb7,Rxc5,Qe4,Rfc1,Rd7,R5c4,Qd3,R4c3,Qe4,Qf3,Qxf3,gxf3,g6,Kf2,Rd2+,Ke1,Rxh2,Rxc7,Rxc7,Rxc7,Rxa2,Rc6,Kg7,e4,h5,f5,gxf5,exf5,exf5,Rf6,h4,Rxf5', 'h3,Rh5,h2', 'https://lichess.org/training/OJpAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ojpnd', 'Blitz', 'Indominusfer', 1882, 'Luis0000', 2037, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Be3,Bb4,Nxc6,bxc6,Qd4,Bxc3+,Qxc3,Nf6,O-O-O,h6,Be2,O-O,f3,Bb7,Bc5,Re8,h4,a5,g4,Nh7,Qd2,d5,g5,dxe4,Qf4,Qc8,gxh6,g6,Bd4,c5,Be5,exf3,Rdf1,Qd7,Bxf3,Bxf3,Rxf3,Rad8,Rg1,Rf8,h5,f6,Rxg6+,Kh8,Rf1,fxe5,Qxe5+,Rf6,Rgxf6', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/Ojpnd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OjpoF', 'Rapid', 'Jokkegofot', 1657, 'saleem2227', 1687, 'e4,c5,Nf3,Nc6,a3,Nf6,Nc3,d6,Bc4,e6,h3,Be7,d3,O-O,Bg5,a6,Qe2,b5,Ba2,b4,axb4,cxb4,Nd1,Qa5,b3,Bb7,Nb2,e5,Nc4,Qc7,Qe3,d5,Bxf6,Bxf6,exd5,Nd4,Nxd4,exd4,Qf3,Rfe8+,Kd2,Rad8,Rae1,Rxe1,Rxe1,h6,Qf5,Bxd5,Kc1,Bxc4,bxc4,a5,Bb3,Qd7,Qxa5,Bg5+,Kb2,Qc6,f4,Ra8,Qd5,Qa6,fxg5', 'Qa3+,Kb1,Qa1#', 'https://lichess.org/training/OjpoF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojqKs', 'Rapid', 'CrushKing', 1910, 'jordicatalonia', 1754, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,d3,d5,c4,dxe4,dxe4,Qxd1+,Kxd1,Bg4,Ke2,g6,Be3,e6,Nc3,Rb8,b3,Bg7,Rac1,Bd4,Na4,Nf6,h3,Bxf3+,Kxf3,Nd7,h4,O-O,Rcd1,e5,Bh6,Rfe8,g4,Re6,h5,Rf6+,Kg3,Rxf2', 'Rxd4,cxd4,Kxf2', 'https://lichess.org/training/ojqKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojQwo', 'Classical', 'mexican', 1754, 'uncas5', 1798, 'e4,Nc6,Nf3,e5,d4,Nxd4,Nxe5,Nc6,Nxc6,bxc6,b3,Nf6,Nc3,g6,e5,Ng8,Bc4,Bg7,Bf4,Ne7,Ne4,O-O,Nf6+,Bxf6,exf6,Nf5,Bg5,Re8+,Be2,Ba6,c4,c5,O-O,d6,Bf3,Rb8,Bc6,Rf8,Qd2,Bb7,Bxb7,Rxb7,Rfe1,Re8,Rxe8+,Qxe8,Bh6,Nxh6,Qxh6,Qf8,Qxf8+,Kxf8,Re1,c6,g4,a5,Re3,Rc7,g5,d5,Rd3,d4,f4,Rd7,Kf2,Rd6,Rd2,Re6,Re2,Rxe2+,Kxe2,Ke8,a3,Kd7,Kd3,Kd6,Ke4,Ke6,h4,d3', 'Kxd3,Kf5,Ke3', 'https://lichess.org/training/ojQwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJrLw', 'Blitz', 'No-providec', 2109, 'IM Tormozz', 2417, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,Bxg5,hxg5,Qxg5,Nh3,Qe7,Qg4,g6,Bd3,Nc6,O-O-O,Nb6,Qf4,Bd7,Ng5,O-O-O,Rxh7,Rxh7,Nxh7,Rh8,Ng5,Nxd4,Nxf7,Rf8,Qxd4,Rxf7,f3,Qg5+,Rd2,Rf4,Qe3', 'd4,Qxf4,Qxf4', 'https://lichess.org/training/OJrLw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojRU2', 'Blitz', 'sgarayg', 2097, 'Kiss_me-baby', 2090, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,c6,Bg5,Nbd7,e3,Be7,cxd5,Nxd5,Bxe7,Qxe7,Bd3,O-O,O-O,Nxc3,bxc3,e5,Qc2,h6,Rab1,b6,Rfe1,Bb7,c4,c5,d5,g6,a4,f5,e4,f4,a5,g5,axb6,axb6,h3,h5,Nh2,Rf6,Ra1,Raf8,Ra7,Bc8,Rea1,Qd6,Qc3,Rg6,Be2,Nf6,Nf3,Re8,h4,gxh4,Nxh4,Rg5,Bf3,Bg4,Qb2,Bxf3,Nxf3,Rg7,Ra8,Re7,Qb5,Kf7,Rxe8,Rxe8,Ra7+,Re7,Ra8,Nxe4,Rc8,Qd7,Rc6,Re6,Qxb6,Rxc6,dxc6,Qd1+,Kh2,Nxf2,Qc7+,Ke8,Qc8+,Kf7,Qf5+,Ke7,Nxe5,Kd8,Qf8+,Kc7,Qf7+,Kb6', 'Qb7+,Ka5,Qb5#', 'https://lichess.org/training/ojRU2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJRVw', 'Rapid', 'BogdanGrecu', 1734, 'Sundet_boribekov_777', 1604, 'e4,e5,f4,Nc6,fxe5,Nxe5,d4,Ng6,Nf3,d5,exd5,Qxd5,Nc3,Bb4,Bd2,Qa5,a3,Bxc3,Bxc3,Qd5,Qe2+,N8e7,O-O-O,Qa2,Bb4,Qa1+,Kd2,Qxb2,Nh4,Qxd4+,Qd3,Qxh4,Kc1,Bf5,Qb5+,c6,Qxb7,Rc8,Bd3,Qf4+,Kb1,c5', 'Bb5+,Kf8,Qxc8+,Nxc8,Bxc5+', 'https://lichess.org/training/OJRVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojtf6', 'Rapid', 'Furesalim22', 1675, 'maestro_lynx', 1650, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Nc3,e6,Bf4,Nc6,Nb5,Rc8,Be2,a6,Nc3,Bd6,Be3,Nf6,O-O,Qc7,Re1,Ng4,h3,Nxe3,fxe3,Bg3,Rf1,O-O,Nd2,Bh4,Nf3,Bg3,a3,Ne7,Qd2,Ng6,Rac1,Nh4,Nxh4,Bxh4,Bf3,Qg3,Kh1,g5,e4,dxe4,Bxe4,Rxc3,bxc3,Bxe4,Qe2,f5,c4,Qxh3+,Kg1,Qg3,c3,Rf6,Rcd1,Rh6,d5,Qh2+,Kxh2', 'Bf2+,Qh5,Rxh5#', 'https://lichess.org/training/ojtf6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJtPW', 'Rapid', 'Arturiya', 1955, 'bobator', 1950, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,g6,Bc4,Bg7,Nf3,d6,h3,Nf6,e5,dxe5,Nxe5,Qxd1+,Nxd1,e6,Bb5+,Bd7,Nxd7,Nfxd7,Ne3,a6,Bc4,b5,Be2,O-O,Bf3,Ra7,Ke2,Ne5,Be4,Nbd7,f4,Nc4,Nxc4,bxc4,Rb1,Rc7,Be3,Nc5,Bc2,Rb8,Bc1,a5,Rd1,a4,g3,a3,bxa3,Rxb1,Bxb1,Na4,Rd8+,Bf8,Bc2,Nc3+,Kf3,Kg7', 'Bb2,Be7,Bxc3+', 'https://lichess.org/training/OJtPW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OjuZ2', 'Blitz', 'Champion_Fantastic', 2360, 'FM tchess123', 2441, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,c5,O-O,cxd4,Nxd4,O-O,c4,Nc6,Nc3,Qa5,e4,d6,Be3,Ng4,Nxc6,bxc6,Bd4,e5,Be3,Nxe3,fxe3,Be6,Qe2,Qc5,b3,f5,Rad1,f4,Na4,Qxe3+,Qxe3,fxe3,Rxd6,Bg4,Nc3,Bh6,h3,e2,Re1,Be3+,Kh2,Bf2,Rxe2,Bxe2,Nxe2,Rad8,Rxd8,Rxd8,b4,Rd2,Bf3,Bc5,bxc5,Rxa2,Kg2,Ra5,Nc1,Rxc5,Be2,Ra5,Nd3,Kf7,Kf3,Kf6,Ke3,Ra3,c5,a5,Kd2,Ra2+,Kd1,g5,Nc1,Rb2,Nd3,Rb3,Kc2,Rb8,Nb2,Rb4,Bc4,a4,Kc3,Rb8,Nxa4,Rd8,Nb2,Rd4,Nd3,Rxe4,Ba6,Re3,Bb7', 'e4,Kd4,Rxd3+', 'https://lichess.org/training/OjuZ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojvPj', 'Blitz', 'tosinovsky', 2305, 'IM Odirovski', 2511, 'd4,Nf6,Bg5,Ne4,Bf4,g5,Bc1,h6,Nd2,Nd6,e4,Bg7,e5,Nf5,c3,d6,Bd3,dxe5,Qf3,Nh4,Qe2,exd4,Be4,dxc3,bxc3,Nc6,g3,Ng6,Ngf3,f5,Bxc6+,bxc6,Nd4,Qd5,O-O,O-O,Bb2,c5,Nb5,Bb7,f3,Qc6,Rae1,a6,Na3,e5,Nac4,Rad8,Na5,Qd5,Nxb7,Qxb7,Qc4+,Kh7,Ba3,Rxd2,Bxc5,Rfd8,Be3,Rb2,Qe6,Qc8,Qc6,Rd6,Qc4,Qd7,g4,f4,Bc1,Rb5,Qe4,Qc6,Qc2,Rc5,Bb2,e4,Rxe4,Bxc3,Bxc3,Rxc3,Qb1,Rc2,Rf2,Qc5', 'Qxc2,Qxc2,Rxc2', 'https://lichess.org/training/ojvPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJWy4', 'Blitz', 'erzhik01', 2145, 'IM xaoc88', 2397, 'd4,Nf6,c4,d6,Nc3,Nbd7,e4,e5,d5,Be7,f4,O-O,Nf3,exf4,Bxf4,Ng4,Be2,Bh4+,g3,Bf6,O-O,Bxc3,bxc3,Re8,Nd4,Nge5,Qd2,Nb6,Bxe5,Rxe5,Bd3,Nd7,Rae1,Nc5,Bc2,Bh3,Rf4,Qe7,Rh4,Bd7,Qf2,Qf8,Qf3,Rae8,Rf1,Ba4,Bxa4,Nxa4,Rf4,f6,Ne6,Qe7,Rg4,Rxe6,dxe6,Qxe6,Qxf6,Qxf6,Rxf6,Nxc3,Rf2,Nxe4,Re2,Nf6,Rxe8+,Nxe8,Re4,Kf7,Kg2,Nf6,Re3,Nd7,Ra3,a6,Rb3,Nc5,Re3,Nd7,g4,Ne5,Re4,Kf6,h3,h6,Kg3,b6,a4,a5,Rd4,Nd7,Rf4+,Ke6,Rf5,Nc5,Rf8,Nxa4,Rc8,Kd7,Rg8,Nb2,Rxg7+,Kc6,Rg6,a4,Rxh6,a3,Rh8,Nxc4,Ra8,b5', 'g5,b4,g6', 'https://lichess.org/training/OJWy4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojwYs', 'Blitz', 'IM shrekdavid', 2646, 'Abdullah1508', 2245, 'd4,d5,Nf3,Nd7,Bf4,Ndf6,e3,c6,c4,e6,Nc3,Bb4,Qb3,Bxc3+,bxc3,Ne7,h4,Ne4,Bd3,f5,cxd5,exd5,c4,a6,Ne5', 'Qa5+,Kf1,Nd2+', 'https://lichess.org/training/ojwYs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojXaJ', 'Rapid', 'cplyakap1905', 2256, 'alfierelebez', 2181, 'Nf3,d5,g3,Nf6,Bg2,Bf5,d4,e6,Bg5,Be7,Nbd2,Nbd7,c4,c6,cxd5,cxd5,O-O,O-O,Re1,Rc8,Rc1,Rxc1,Qxc1,h6,Bf4,Qc8,Ne5,Nxe5,Bxe5,Nd7,e4,Nxe5,dxe5,dxe4,Bxe4,Bxe4,Nxe4,Rd8,Rd1,Rxd1+,Qxd1,Qc6,Nd6,Kf8,Qd4,Bxd6,exd6,Ke8,Qxa7,Kd7,Qd4,f6,b4,Qxd6,Qxd6+,Kxd6,Kf1,Kd5,Ke2,Kc4,a3,Kb3,Kd3,e5,b5,g6,a4,f5', 'a5,Kb4,a6', 'https://lichess.org/training/ojXaJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OJxc8', 'Rapid', 'cobra_11', 1735, 'Anatoliy20', 1735, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Qe7,O-O,d6,c3,Bg4,cxd4,Bxf3,Qxf3,Nxd4,Qc3,Nc6,Be3,Nf6,Nd2,O-O-O,Bb5,Nxe4,Qa3,Nxd2,Bxd2,d5,Bxc6,Qxa3,Bxb7+,Kxb7,bxa3,Bxa3,Rab1+,Kc8,Ba5,Bc5,Rfc1,Bb6,Bxb6,axb6,Rxb6,d4,Ra6,Rhe8,Ra7,Re7,f3,d3,Rc3,d2,Ra8+,Kd7', 'Rd3+,Ke6,Raxd8', 'https://lichess.org/training/OJxc8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OjXg2', 'Blitz', 'zuiichi', 2093, 'TahaPharmacy', 1900, 'f4,Nf6,Nf3,g6,b3,Bg7,Bb2,d5,e3,Nh5,Nc3,c5,a4,Nc6,Bb5,e6,Bxc6+,bxc6,Ne5,Bb7,O-O,O-O,Ne2,Nf6,g4,Nd7,Nxd7,Qxd7,Bxg7,Kxg7,Ng3,c4,bxc4,dxc4,f5,exf5,gxf5,c5,Qg4,Qd5,e4,Qxd2,f6+,Kh8,Qh4,Rae8,Rad1,Qxc2,Qh6,Rg8,Rd2,Qc3,Ne2,Qe5,Rd7,Qxe4,Rxb7,Qxb7,Rf4,Rxe2', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/OjXg2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OjXGL', 'Rapid', 'jogler', 1774, 'Luhu', 1766, 'c4,e5,g3,Nf6,Bg2,Be7,Nf3,d6,Nc3,a6,Rb1,Nc6,O-O,Bf5,d3,O-O,b4,Qc8,a4,Bh3,b5,Nd4,Be3,Nxf3+,exf3,b6,f4,Bxg2,Kxg2,Qb7+,Kg1,Qc8,fxe5,dxe5,Qf3,Qh3,Qg2,Qxg2+,Kxg2,Ng4,Bd2,Bc5,Ne4,f5,Nxc5,bxc5,Rbe1,Rfe8,h3,Nf6,Bc3,Nd7,Re2,Re6,Rfe1,axb5,axb5,Rae8,Ba5,Nb6,f4,e4,dxe4,Rxe4,Rxe4,fxe4,g4,g6,Kg3,h6,f5,g5,h4,Kf7,hxg5,hxg5,Rh1,Kg7,Bc3+,Kg8,Rh8+,Kf7,Rh7+,Kg8,Rxc7,Nxc4,Rg7+,Kf8,Rxg5,e3,Rh5,Nd2,Rh8+,Kf7,Rxe8,Kxe8,Kg2,Kd7,g5,Ne4,Bf6', 'e2,Bc3,Nxc3', 'https://lichess.org/training/OjXGL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ojzXW', 'Rapid', 'Snaiper9999', 1781, 'roeltje', 1802, 'e4,c5,Qh5,b6,Bc4,e6,Nf3,Nf6,Qe5,Nc6,Qf4,Bb7,d3,g6,Qg3,Be7,Bh6,d5,Bb5,dxe4,dxe4,Nxe4,Qe5,Nf6,O-O,a6,Bxc6+,Bxc6,Nc3,Bd6,Qg5,Qe7,Bg7,h6', 'Qxf6,Qxf6,Bxf6', 'https://lichess.org/training/ojzXW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oK1QX', 'Rapid', 'mahir123', 2062, 'Aquilabianca', 2073, 'd4,d5,Nf3,Nf6,e3,Bg4,Bd3,c6,c4,Nbd7,Nbd2,e6,Qb3,Qb6,Qxb6,Nxb6,c5,Nbd7,h3,Bxf3,Nxf3,g6,b4,Bg7,a4,O-O,Rb1,Ne4,Bxe4,dxe4,Ng5,e5,dxe5,Nxe5,Nxe4,Rfd8,Nd6,Rd7,Ke2,Bf8,Rd1,Bxd6,cxd6,Rad8,Bb2,Nc4,Bf6,Re8,Be7,f5,b5,cxb5,Rxb5,Nb6,a5,Nc8,Rbd5,Nxe7,dxe7,Rxd5,Rxd5,Rxe7,Rb5,Kf7,f3,Ke6,e4,fxe4,fxe4,Kd6,Ke3,Kc6,Rd5,b6,axb6,axb6,Kd4,Rd7,Rxd7,Kxd7,Kd5,b5,Kc5', 'Ke6,h4,Ke5', 'https://lichess.org/training/oK1QX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OK4vR', 'Rapid', 'smi1e123', 1679, 'RushTail', 1688, 'd4,Nf6,e3,g6,Bd3,Bg7,f4,O-O,Nf3,c5,c3,d6,O-O,cxd4,exd4,Bf5,Bxf5,gxf5,Nh4,e6,Rf3,Nbd7,Rg3,Ng4,Nd2,Qxh4,Rh3,Qf2+,Kh1,Qxf4,Qe1,Nf2+,Kg1,Nxh3+,gxh3,Kh8,Nf1,Rg8,Bxf4', 'Bxd4+,Kh1,Rg1#', 'https://lichess.org/training/OK4vR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OK55r', 'Blitz', 'boblibob', 2204, 'cndrii2156', 2028, 'e4,c5,c3,d5,exd5,Qxd5,d4,cxd4,cxd4,e5,Nf3,exd4,Qxd4,Qe6+,Be3,Nc6,Bb5,Bd7,Qd2,Nf6,O-O,Bb4,Nc3,O-O,a3,Ba5,b4,Bc7,Rfe1,Rfd8,Bxa7,Qf5,Be3,Qh5,Qe2,Bg4,h3,Bxh3,gxh3,Qxh3,Bxc6,bxc6,Red1,Re8,Rd4,Ng4,Rxg4,Qxg4+,Kf1,Qh3+,Kg1,Re6,Qd1,Rg6+,Bg5,Bh2+,Kh1,Be5+,Kg1,Bh2+,Kh1,Bc7+,Kg1,Re8,Rc1,Rxg5+,Nxg5', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/OK55r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OK5bS', 'Blitz', 'hloots', 2257, 'TheKingthatrunsaway', 2275, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,c6,e3,Bd6,Bd3,h6,O-O,a6,b3,b5,cxd5,exd5,Bb2,O-O,Re1,Re8,e4,dxe4,Nxe4,Nxe4,Bxe4,Bg4,Rc1,Ra7,h3,Bh5,g4,Bg6,Bxc6,Rxe1+,Qxe1,Nxc6,Rxc6,Qf6,Qe8+,Kh7,Rc8,Bb1,Qh8+,Kg6,Ne5+,Bxe5,dxe5,Qf3,e6,Qd1+,Kg2,Be4+,Kg3', 'Qf3+,Kh4,Qxf2#', 'https://lichess.org/training/OK5bS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OK5Q7', 'Rapid', 'msa2003', 1782, 'viktor19572957', 1910, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Qe7,Qb3,Qxe4+,Ne2,Qg6,Nbxc3,Nc6,Nd5,Bd6,Bf4,Ne5,O-O,c6,Rae1,cxd5,Bxd5,Ne7,Bxe5,Bxe5,Ng3,O-O,Rxe5,Nxd5,Qxd5,d6,Rg5,Qe6,Qd4,g6,Nf5,Qe5', 'Nh6+,Kg7,Rxe5', 'https://lichess.org/training/OK5Q7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ok5Z2', 'Rapid', 'sergioangra2reis', 1876, 'SaulGoodman42', 2029, 'e4,c5,Nf3,Nc6,c3,e5,a3,a5,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke8,Bxd5,Qf6,Bxc6+,bxc6,Qxf6,gxf6,O-O,Rg8,d3,Bh3,g3,Bxf1,Kxf1,Rb8,Be3,Rxb2,Nd2,Bd6', 'Nc4,Rc2,Nxd6+', 'https://lichess.org/training/ok5Z2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ok60h', 'Rapid', 'aespinoza78', 1965, 'Tirilii', 1990, 'd4,d5,Bf4,c5,Nf3,e6,e3,cxd4,exd4,Nc6,c3,Nf6,Bd3,Bd6,Be5,Bxe5,dxe5,Nd7,Qe2,Qc7,Bb5,a6,Ba4,b5,Bc2,Ncxe5,Nbd2,O-O,O-O,Bb7,Nxe5,Qxe5,Qg4,Nf6,Qh4,Rfd8,Rae1,Qh5,Qd4,Rd7,Re5,Qh6,f4,Ng4,h3,Nxe5,fxe5,Rc8,Nf3,g6,Nh2,Rc4,Qf2,d4,Ng4,Qg5,Nf6+,Kh8,Nxd7,dxc3,bxc3,Rf4,Qe2,Rxf1+,Qxf1,Qd2,Kh2,Qxc2', 'Qf6+,Kg8,Qd8+,Kg7,Qf8#', 'https://lichess.org/training/ok60h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ok6I1', 'Rapid', 'aakash123', 1645, 'red539413', 1797, 'e4,e5,Nf3,Nc6,Bc4,f6,O-O,Nge7,Re1,Ng6,h3,a6,c3,Bc5,d4,Ba7,dxe5,Ncxe5,Nxe5,Nxe5,Bb3,Nf7,Nd2,O-O,Nf3,d6,Qc2,Kh8,Nh4,Ne5,Kh1,Bd7,f4,Nc6,Be3,Bb8,Nf3,Ne7,e5,fxe5,fxe5,Bc6,Ng5,Ng6,e6,Qe7,Rf1,d5,Rf3,Rxf3,gxf3,Ba7,Bd2,Rf8,Rf1,d4,cxd4,Bxd4,h4,Bf6,Nxh7,Kxh7,h5,Rh8,Qxg6+,Kg8,Rd1,Be8,Qf5', 'Rxh5+,Qxh5,Bxh5', 'https://lichess.org/training/Ok6I1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oKa1S', 'Classical', 'Alex7310', 1627, 'janard', 1635, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,g4,Bg6,d3,Nf6,O-O,d5,exd5,Nxd5,Nc3,Nxc3,bxc3,Nc6,Re1,Bd6,Bb5,e4,dxe4,O-O,Bd3,Ne5,Nd4,Nxd3,cxd3,a6,f4,h6,f5,Bh7,Nf3,Bc5+,d4,Bb6,g5,h5,g6,fxg6,Bg5,Qd6,e5,Qd5,Nh4,gxf5,Qxh5,Qe6,Bf4,g6,Qh6,c5,Bg5,cxd4,Kh2,dxc3,Bf6,Rf7', 'Nxg6,Rxf6,exf6', 'https://lichess.org/training/oKa1S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OkaXc', 'Rapid', 'Vintergatan', 2236, 'alejo81', 2084, 'd4,d5,c4,c6,cxd5,cxd5,Nf3,Nc6,Nc3,Nf6,Bf4,a6,e3,Bf5,Ne5,Nxe5,Bxe5,Qa5,Bxf6,exf6,Qb3,Bb4,Be2,Rc8,Rc1,O-O,O-O,Bxc3,Rxc3,Rxc3,bxc3,Rc8,Qxb7,Qxc3,Qxa6,h6,Bf3', 'Bd3,Qxc8+,Qxc8', 'https://lichess.org/training/OkaXc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKBrM', 'Blitz', 'Serban_Ginting', 2198, 'Leonid_A', 2145, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,Nxe4,d4,d5,Bb3,exd4,Nxd4,Nxd4,cxd4,Bd6,Qe2,O-O,Nc3,Nxc3,bxc3,Re8,Qf3,c6,Bf4,Be6,h3,Qc7,Bxd6,Qxd6,Rfe1,f6,Re3,Bf7,Rae1,Rxe3,Rxe3,Re8,Rxe8+,Bxe8,Qe3,Kf7,Bc2,h6,h4,Qe6', 'Bg6+,Ke7,Qxe6+,Kxe6,Bxe8', 'https://lichess.org/training/OKBrM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('okc9S', 'Blitz', 'Offenback', 1997, 'Zikan', 1755, 'd4,d5,c4,e5,dxe5,d4,Nf3,c5,e3,Nc6,exd4,cxd4,Be2,Bb4+,Kf1,Bf5,Bd3,Bg4,a3,Ba5,b4,Bb6,Bf4,Nge7,h3,Bh5,g4,Bg6,Bxg6,Nxg6,Bg3,O-O,Kg2,f6,exf6,Qxf6,Qd3,Nce5,Nxe5,Nxe5,Qb3,d3,c5+,Kh8,cxb6,Qf3+,Kh2,Nc6,Nd2,Qe2,Qd1', 'Rxf2+,Kg1,Rg2#', 'https://lichess.org/training/okc9S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKcZD', 'Blitz', 'bringiton13', 1656, 'Morknatz', 1626, 'd4,d5,Bf4,Bf5,Nf3,e6,e3,h6,Bd3,Bxd3,Qxd3,Nf6,c3,Bd6,Bg3,O-O,Nbd2,a6,Ne5,Bxe5,dxe5,Nh7,Nf3,c5,Bh4,Qb6,Rb1,Nd7,Rg1,d4,exd4,cxd4,g4,Rad8,cxd4,Nc5,Qe3,Qb4+,Kf1,Qc4+,Kg2,Nd3,Kh1,Qb5,g5,hxg5,Nxg5,Qd5+,Nf3,Nb4,Rxg7+,Kxg7,Rg1+,Kh8', 'Bf6+,Nxf6,Qh6+,Nh7,Qg7#', 'https://lichess.org/training/OKcZD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKFg9', 'Blitz', 'Sanin2009', 1930, 'flashstyler', 2033, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Bxf7+,Ke7,Bb3,Qe8,O-O,d6,Nc3,Bg4,Qe1,Qh5,d3,Nd4,Na4,Nxb3,axb3,h6,Nh3,Bxh3,Nxc5,Bxg2,Kxg2,Qg4+,Kh1,Qf3+,Kg1,Ng4,Qc3,Raf8,d4,dxc5,Qxf3,Rxf3,dxc5,a6,Bd2,Rhf8,Rae1,Nxf2,Kg2,R3f6,Re2', 'Rg6+,Bg5+,Rxg5#', 'https://lichess.org/training/OKFg9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oKg7c', 'Rapid', 'bulicu', 1885, 'smed', 1756, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Qe2+,Be7,Bxd7+,Qxd7,O-O,Nc6,Re1,Nf6,Ne5,Nxe5,Qxe5,Ng4,Qe2,Nh6,d3,Nf5,Bg5,f6,g4', 'Nd4,Qxe7+,Qxe7,Rxe7+,Kxe7', 'https://lichess.org/training/oKg7c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('okgmr', 'Rapid', 'Felipe_Ferr', 1781, 'deemage', 1698, 'e4,c6,Nf3,d5,d4,dxe4,Nfd2,Bf5,c3,e6,Be2,Nf6,h3,Bd6,O-O,O-O,f3,exf3,Nxf3,b5,Bd3,Bxd3,Qxd3,Nbd7,Bg5,Qb6,Nbd2,Nd5,Be3,Nxe3,Qxe3,Nf6,Rae1,Nd5,Qf2,c5,Ne4,cxd4,Nxd6,Qxd6,Qxd4,Rfd8,Rd1,a6,Ng5,Rd7,Ne4,Qe7,Qf2,Rad8,Nc5,Rd6,Ne4,Rc6,Rd3,Rc4,Rd4,Rxd4,Qxd4,Qh4', 'Nf6+,Qxf6,Rxf6', 'https://lichess.org/training/okgmr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKgPi', 'Rapid', 'Odel001', 1729, 'stevehar', 1731, 'd4,d5,g3,c5,Nf3,c4,c3,b5,Be3,Nc6,Bg2,Bg4,h3,Bh5,Nbd2,Nf6,Nf1,Ne4,N1h2,Qb8,Qc1,Nxg3,fxg3,Qxg3+,Bf2', 'Qxg2,Rg1,Qxh3', 'https://lichess.org/training/OKgPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Okh54', 'Blitz', 'calamity675', 1568, 'Vankata398', 1543, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Bd3,Qb6,Nb3,Nc6,Qd2,Nd4,Bxf6,gxf6,O-O,Rg8,Qe3,e5,Nd5,Qd8,Nxd4,exd4,Qxd4,Bh3,Nxf6+,Qxf6,Qxf6,Rxg2+,Kh1,Rg6,Qd4,Bg2+,Kg1,Bh3+,Kh1', 'Bg2+,Kg1,Bxe4#', 'https://lichess.org/training/Okh54');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OkhCE', 'Blitz', 'Clazby', 2542, 'IM GG91', 2571, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,Bc4,Nb6,Bb5,Bd7,exd6,e6,Bf4,Nd5,Bg3,Qa5+,Nc3,Nxc3,bxc3,Qxb5,Rb1,Qa6,Qb3,Na5,Qa3,f6,Nd2,Rc8,Rb4,b6,c4,Qb7,Qxa5,Qxg2,Qh5+,g6,Qf3,Qxf3,Nxf3,Bc6,Ke2,Kd7,c5,h5,h4,Bh6,Rhb1,Rb8,a4,Rhc8,Nd2,Bd5,a5,b5,Rxb5,Rxb5,Rxb5,Kc6,Rb2,e5,dxe5,fxe5,Bxe5,Re8,f4,Bxf4,Nf3,Bxf3+,Kxf3,Bxe5,Re2,Rf8+,Ke4,Bf6,Rf2,Kxc5,d7,Kd6', 'Rxf6+,Kxd7,Rxf8', 'https://lichess.org/training/OkhCE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OkhV8', 'Rapid', 'Blueshammer', 1696, 'l2ol3', 1632, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,e6,O-O,Bd6,d4,Nc6,Re1,O-O,c3,Bd7,Nbd2,Re8,Ne4,Be7,Qb3', 'Na5,Qc2,Nxc4', 'https://lichess.org/training/OkhV8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oKI7r', 'Classical', 'yawade', 1613, 'ggomyth', 1684, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,d4,cxd4,Nxd4,Nf6,Bg5,d5,e5,h6,Bxf6,gxf6,exf6,Qxf6,c3,Bg7,Nxc6,O-O,Nd2,Bb7,Nd4,e5,N4f3,d4,cxd4,exd4,O-O,Rac8,Rc1,Rxc1,Qxc1,Rc8,Ne4,Rxc1', 'Nxf6+,Bxf6,Rxc1', 'https://lichess.org/training/oKI7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oKic8', 'Blitz', 'HardToBeatMe', 1823, 'ahmadelhendawi123', 1865, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,e3,Be7,Nf3,h6,Bh4,O-O,Qc2,c5,Be2,b6,O-O-O,a6,Kb1,Bb7,b3,Qc7,Bg3,Qc6,Be5,Nxe5,Nxe5,Qc7,Rhg1,Bd6,f4,Rfc8,Bf3,cxd4,exd4,dxc4,bxc4,Bxf3,gxf3,Rab8,Qg2,Bf8,Rc1,Qa7,Ne4,Nxe4,fxe4,a5,Rc2,b5,c5,b4,Rb2,a4,f5,b3,f6,bxa2+,Ka1,Rxb2,Qxb2,g5,h4,Rb8,Qg2,Qb7,hxg5', 'Qb1+,Rxb1,axb1=Q#', 'https://lichess.org/training/oKic8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKIXo', 'Rapid', 'Rabo_Tegor_Dote', 1709, 'abuyahya', 1654, 'e4,e5,Nf3,d6,d4,f5,dxe5,fxe4,Ng1,d5,Qh5+,g6,Qd1,Bh6,Nc3,c6,Be2,Bxc1,Rxc1,Qg5,Nf3,Qxg2,Rg1,Qh3,Ng5,Qxh2,Rg3,Qh1+,Bf1,Qh6,Ne2,Qg7,e6,Nh6,Nf4,Qf6,Qd2,O-O,c4,Qxf4,Qxf4,Rxf4,e7,Bd7,cxd5,Nf5,dxc6,Nxc6,Bc4+,Kg7,Ne6+,Kf6,Nxf4,Ncxe7,Rd1,Nxg3,fxg3,Bf5,Rd6+,Kg5,Kf2,Rb8,Be6,a5,Bxf5,Nxf5,Re6,Kg4,Rxe4,Nxg3,Ra4,Rf8,Ke3,Re8+,Kd3,Rd8+,Kc4,Rc8+,Kb5,Kf5,Nd5,Rc2', 'Ne3+,Ke5,Nxc2', 'https://lichess.org/training/OKIXo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Okj3p', 'Blitz', 'NM knightking64', 2325, 'mcdo_delivery', 2345, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be3,Bxe3,fxe3,Ng4,Qf3,Qh4+,g3,Qg5,Qf4,Qc5,Kd2,Be6,Be2,Ne5,Nc3,O-O-O,Ke1,f6,Kf2,Qb4,Kg2,g5,Qxf6,Qd6,d4', 'Bh3+,Kxh3,Qxf6', 'https://lichess.org/training/Okj3p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('okMhj', 'Blitz', 'Ermanzo', 1993, 'Rogpatll', 2002, 'Nf3,d5,g3,Bg4,Bg2,Bxf3,Bxf3,e6,O-O,c6,d3,h5,Nd2,h4,g4,h3,e4,Nf6,Bh1,g6,f4,Rh4,Bf3,dxe4,dxe4,Qd4+,Kh1,Na6,Qe1,O-O-O,Qxh4,Qe3,Nc4', 'Qxf3+,Rxf3,Rd1+,Qe1,Rxe1+,Rf1,Rxf1#', 'https://lichess.org/training/okMhj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OkmJk', 'Rapid', 'mssumeet', 1981, 'chesswalet', 2011, 'e4,c5,Nc3,Nc6,Bb5,d6,Bxc6+,bxc6,f4,e5,fxe5,dxe5,Nf3,Bg4,O-O,Nf6,Qe1,Bd6,d3,O-O,Bg5,Bxf3,Rxf3,Be7,Qg3,Rb8,b3,Qd4+,Kh1,Qxc3,Raf1,Nh5,Qh4,Bxg5,Qxg5,Nf4,g3,Ne6,Qh5,Rbe8,Rxf7,Qxc2,Qf5,Qxd3,Rxf8+,Nxf8', 'Qf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/OkmJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKn6G', 'Blitz', 'carlson85', 2432, 'Rudibus21', 2313, 'd4,g6,Nc3,Bg7,e4,d6,f4,a6,Nf3,b5,Bd3,Bb7,Be3,Nd7,e5,c5,Be4,Bxe4,Nxe4,cxd4,Bxd4,dxe5,fxe5,e6,Nd6+,Ke7,O-O,f6,Qe1,Nxe5,Bxe5,fxe5,Rd1,Qb6+,Kh1,Rd8,Nxe5,Nf6,Nef7,Rd7,Qb4,a5,Qa3,b4,Qh3,Rf8,Rfe1,Rxf7,Qxe6+,Kf8', 'Qe8+,Nxe8,Rxe8#', 'https://lichess.org/training/OKn6G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OkNtq', 'Rapid', 'A-vanquisher', 1895, 'izrailtal', 1920, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Bc4,a6,O-O,Qc7,a3,Nf6,Nc3,Bc5,Be3,Ne5,Bf4,d6,Bb3,O-O,Nf3,Ng6,e5,Nh5,exd6,Qd7,Be5,b5,Ng5,Nhf4,Bxf4,Nxf4,Qf3,Ng6,Qh5,h6,Bxe6,fxe6,Qxg6,hxg5,Ne4,Bd4,Nxg5,Rf5', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/OkNtq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKOgZ', 'Classical', 'sciossuolo', 1845, 'abracadabra38', 1679, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Bd7,a4,Bxb5,axb5,a6,bxa6,Rxa6,Na3,c4,c3,Bxa3,Rxa3,Rxa3,bxa3,f6,d4,fxe5,dxe5,Nc6,O-O,Nge7,Ng5,Qd7,f4,O-O,Qg4,Nf5,Qh3,h6,Nf3,d4,g4,Ne3,Bxe3,dxe3,Nh4,e2,Re1,Qd1,Kf2,Rxf4+,Nf3,Qd3,Rxe2,Nxe5,Rxe5,Qxc3,Re3,Qb2+,Kg3,e5,Qg2', 'Rxg4+,Kxg4,Qxg2+', 'https://lichess.org/training/OKOgZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('okoiR', 'Rapid', 'FM Lucachess20003', 2336, 'fiumedk', 2383, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,Nf3,g6,Bf4,a6,a4,Bg7,h3,O-O,e3,Qe7,Be2,Nfd7,O-O,Ne5,Nxe5,Bxe5,Bxe5,Qxe5,a5,Nd7,Qb3,Nf6,Rad1,Re8,Na4,Bd7,Nb6,Rad8,Nc4,Qe7,Qxb7,Rb8,Qxa6,Bb5,Qxd6,Bxc4', 'Qxe7,Rxe7,Bxc4', 'https://lichess.org/training/okoiR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oKPeJ', 'Classical', 'igorbel', 1714, 'wonderlandalice', 1710, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,e3,a6,Bd3,Bg4,h3,Bh5,g4,Bg6,Bxg6,fxg6,Qb3,e6,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/oKPeJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKPgf', 'Classical', 'richardson44', 1850, 'TrueKnightmare', 1810, 'e4,e5,d4,exd4,Bc4,Nf6,Nf3,Bc5,Bg5,h6,Bh4,O-O,e5,g5,exf6,gxh4,Nxh4,Qxf6,Qg4+,Kh7,Bd3+,Kh8,Qe4,Qg7,O-O,d5,Qxd5,Bd6,Nd2,Be6,Qxb7,Nd7,Qe4,Nf6,Qxd4,Ng4,Qe4,Bxh2+,Kh1,Bd6,Ndf3,Be7,Nf5,Bxf5,Qxf5,Rg8,Qe4,Ne3,Rg1,Ng4,Qxe7', 'Nxf2+,Kh2,Qg3#', 'https://lichess.org/training/OKPgf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKPMm', 'Rapid', 'Ulysses100', 1663, 'jorgw', 1671, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d5,Bf4,c5,Ne5,cxd4,Nxd5,Nxd5,cxd5,Qxd5,Rc1,Bxe5,Rxc8+,Kd7,Qa4+,Nc6,Rxh8,Bxh8,e4,Qxe4+,Be2,Qxf4,O-O,Qe5,Bg4+,e6,Rd1,h5,Bh3,f5,g3,a6,Bg2,b5,Qc2,Rc8,a4,Nb4,Qb3,Nc6,axb5,axb5,Qa3,Qd6,Qb3,Qb4', 'Bxc6+,Rxc6,Qxb4', 'https://lichess.org/training/OKPMm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKQhx', 'Rapid', 'llahoirled', 1711, 'Rodolfo_Bjerring', 1675, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e6,a3,Be7,Bd3,Qc7,O-O,O-O,f4,Bd7,Re1,Nc6,Nf3,b5,Ne2,Rfd8,Ng3,h6,c3,Be8,Qc2,a5,Bxb5', 'Qb6+,Be3,Qxb5', 'https://lichess.org/training/OKQhx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKRac', 'Rapid', 'GUSICHESS', 1706, 'Pastern1k', 1899, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d3,a6,O-O,axb5,Nc3,d6,Bg5,h6,Bxe7,Bxe7,Nd5,Bg4,h3,Be6,Re1,O-O,c3,b4,d4,bxc3,Nxc3,Nxd4,Nxd4,exd4,Qxd4,Bf6,Qe3,Bxc3,Qxc3,Rxa2,Rxa2,Bxa2,b3,Qg5,Qb2,Qa5,Ra1,Ra8,b4,Qa4,Qc3,Qc6,Qb2,Qc4,b5,Qb3', 'Qxb3,Bxb3,Rxa8+', 'https://lichess.org/training/OKRac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKrNq', 'Rapid', 'khuling-129', 1711, 'phlegm', 1639, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Nxc6,Qxc6,Bd3,Bc5,O-O,d6,Kh1,f6,f4,Ne7,Qh5+,g6,Qh6,Be6,Qg7,Rf8,e5,Bf5,exf6,Rf7,Qh8+,Kd7,Bxf5+,Nxf5,Qxa8,Be3,Re1,Qe4,Nc3,Qxf4,Nd5', 'Ng3+,hxg3,Qh6#', 'https://lichess.org/training/OKrNq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OkrvK', 'Blitz', 'CM WildTricks', 2345, 'juthebets', 2191, 'e3,c5,c3,d5,d4,Nf6,Bd3,Nc6,f4,Bg4,Nf3,e6,O-O,Bd6,Nbd2,Qc7,Qe2,O-O,h3,Bh5,g4,Bg6,Ne5,Bxe5,fxe5,Ne4,Nxe4,dxe4,Bb5,cxd4,cxd4,a6,Bxc6,Qxc6,Bd2,Qd5,b3,Rfc8,Rac1,h5,gxh5,Bf5,Qg2,Kh7,Kh2,Qb5,Qg5,Rxc1,Rxc1,Qe2+,Qg2,Qxh5,Rc7,Rb8,Bb4,Bg6,Bd6,b5,Rxf7,Bxf7,Bxb8,Qf5,Bd6,Bh5,Be7,Bf3,Qg5,Qxg5,Bxg5,Kg6,h4,Bd1,b4,Bc2,Kg3,Bb1,a3,Ba2,Kf4,Bd5,Kg4,Bc6,h5+,Kf7,Bd8,Bd5,Kg5,Bc6,Kh4,Bd5,Kg4,Bc6,Kg5,Bd5,Bf6,Bc6,Bxg7,Kxg7,h6+,Kh7,Kf6,Bd5,Kg5,Bc4,Kh5,Bd5,Kg5,Bc6,Kh5,Be8+,Kg5,Bg6', 'Kf6,Kxh6,Kxe6', 'https://lichess.org/training/OkrvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('okuO7', 'Rapid', 'kasparov1891', 2346, 'simplesimpson03', 2281, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nb3,Be7,g4,h6,Be3,Nbd7,Qd2,Nf8,a4,Ng6,O-O-O,O-O,Bc4,Qc7,Bd5,Bd7,Rdg1,Rac8,g5,hxg5,Bxg5,Nxd5,Nxd5,Bxg5,Rxg5,Qc4,Rhg1,Qxb3', 'Ne7+,Nxe7,Rxg7+,Kh8,Qh6#', 'https://lichess.org/training/okuO7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('okVFZ', 'Classical', 'Shadauz', 1769, 'USER4023', 1737, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Nge2,c6,d4,Qc7,g3,Bg4,Bg2,e6,O-O,Nf6,Re1,Be7,Bf4,Qc8,a3,O-O,Qd2,Nbd7,Na4,Nd5,Bg5,Bf5,c3,N7f6,Nf4,Nxf4,Bxf4,h6,Re5,Bd6,Rxf5,exf5,Bxd6,Re8,Be5,Nd5,c4,Nb6,Nxb6,axb6,Qb4,f6,Bf4,Re2,Qxb6,Qd7,Kf1,Re6,Re1,Rxe1+,Kxe1,Re8+,Kf1,Qe6,Qb4', 'Qe2+,Kg1,Qd1+,Bf1,Re1,Qxe1,Qxe1', 'https://lichess.org/training/okVFZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKwHL', 'Classical', 'kaifastus', 2078, 'ChesSMASTERR2016', 2075, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,Nbd7,Be3,e5,d5,c6,dxc6,bxc6,Qxd6,Bb7,Nf3,c5,Qd3,O-O,Be2,Qe7,O-O,Rfd8,Nd5,Nxd5,cxd5,Nb6,Rac1,Nxd5,exd5,e4,Qc4,Bxd5,Qxc5,Qxc5,Rxc5,exf3,Rxd5', 'fxe2,Re1,Rxd5', 'https://lichess.org/training/OKwHL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oKXRI', 'Rapid', 'msaavedra', 1685, 'ilidiomartins', 1658, 'g3,e5,d4,exd4,Qxd4,Nc6,Qe3+,Qe7,Bg2,Qxe3,Bxe3,Nf6,Nf3,Bb4+,c3,Ba5,b4,Nxb4,cxb4,Bxb4+,Nfd2,Ng4,O-O,Nxe3,fxe3,O-O,a3,Bc5,Nc4,b5,Ne5,Bxe3+,Kh1,Rb8,Nd2,f6,Nef3,g5,Ne4,Bb7,Ne1,Kg7,Rd1,d6,Nc3,Bxg2+,Nxg2,a6,Nxe3,Rfe8,Nf5+,Kg6,g4,h5,gxh5+,Kxh5,Ng7+,Kg6,Nxe8,Rxe8,h3,Re3,Nb1,Rxh3+,Kg2,Re3,Rde1,d5,Rf3,Re6,Rc3,c6,Rh3,c5,Rb3,c4,Rc3,d4,Rh3,d3,e3,a5,Nc3,b4,axb4,axb4,Nd5,b3,Nc3,d2,Rd1,Rd6,Kf3,f5,Rh2,g4+,Kf4,Rd3,Nb1,c3,Nxc3,Rxc3,Rdxd2,Rc4+,Kg3,Rc3,Rd6+,Kg5,Rb6,Rxe3+,Kf2', 'g3+,Kg2,gxh2', 'https://lichess.org/training/oKXRI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('okxX2', 'Blitz', 'vedan123', 2008, 'KoMoe', 1867, 'c4,Nf6,Nc3,g6,e3,Bg7,Nf3,O-O,d4,c6,g3,d5,cxd5,cxd5,Bg2,Bf5,O-O,Nc6,Qb3,Qd7,Bd2,e6,Rfe1,b6,Qd1,Na5,b3,Nc6,Rc1,Rac8,Nh4,Bg4,f3,Bf5,Nxf5,gxf5,e4,dxe4,fxe4,Nxd4,Be3,e5,exf5,Nxf5,Qxd7,Nxd7,Bf2,Nc5,Nd5,Nd3,Ne7+,Kh8,Nxc8,Nxe1,Bxe1,Bh6,Rc7,Be3+,Kf1,Bd4,Ne7,Ne3+,Kf2', 'Nd5+,Ke2,Nxc7', 'https://lichess.org/training/okxX2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oKY5T', 'Rapid', 'miladchesspower', 2197, 'naborjs', 2176, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d6,Nc3,Nf6,e5,Nd5,exd6,exd6,Re1+,Be7,Ne4,O-O,d3,Bg4,h3,Bh5,Ng3,Bg6,Bd2,Bf6,Rb1,a5,Ne4,Be7,a3,a4,Nc3,Bf6,Ne4,Be7,d4,c4,Qe2,Nb6,c3,d5,Nc5,Bxc5,dxc5,Nd7,Be3,Bxb1,Rxb1,Qa5,Bd4,Nxc5,Qe5,f6,Qd6,Nd3,Qxc6,Rac8,Qd7,Rcd8,Qc6,Rfe8,Bb6,Qa6,Nd4,Ne5,Qc5,Rd7,f4,Nd3,Qc6,Qc8,Qxa4,Nxf4,Rf1,Ne2+,Nxe2,Rxe2,Qb5,Qb7,a4,d4', 'Qxc4+,Rf7,Qxe2', 'https://lichess.org/training/oKY5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oKy5x', 'Rapid', 'black00000', 1758, 'Oudenaarde', 1872, 'e4,e5,Nf3,d6,d4,exd4,Bc4,c5,O-O,Be7,c3,dxc3,Nxc3,Nc6,Nd5,Nf6,Nxe7,Qxe7,Bg5,O-O,Re1,Ne5,Nxe5,dxe5,f4,Bg4,Qb3,exf4', 'e5,Qd7,exf6', 'https://lichess.org/training/oKy5x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oKYRY', 'Rapid', 'popion', 1748, 'HAJNC1', 1879, 'e4,b6,d4,g6,Bd3,Bg7,Nf3,Bb7,Nc3,e6,Be3,d6,Qd2,h6,O-O,Nd7,Rfe1,a6,a3,e5,d5,Ngf6,Nh4,c6,f4,Nxe4,Bxe4,Qxh4,dxc6,Bxc6,Bxc6,Rc8,Bxd7+,Kxd7,fxe5,Bxe5,g3,Qc4,Bxb6,f6,Rad1,Rc6,Ba5,h5,Bb4,h4,Rxe5,fxe5,Bxd6,Ke6,Nd5,h3,Nc7+,Rxc7,Bxc7,Qc5+,Kf1', 'Rf8+,Ke1,Qg1+', 'https://lichess.org/training/oKYRY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OKzKl', 'Blitz', 'essil', 1712, 'San-Frapero', 1761, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,d6,d3,O-O,Nbd2,c5,Re1,Nc6,e4,Rb8,a3,b5,c3,Bb7,d4,cxd4,cxd4,Nd7,Nf1,a5,Bg5,h6,Be3,e5,d5,Ne7,Qd2,Kh7,h4,f5,h5,gxh5,Nh4,f4,gxf4,exf4,Bxf4,Ne5,Ng3,N5g6,Nhf5,Nxf5,Nxf5,Nxf4,Qxf4,Qf6,Qxd6,Rbd8,Qxf6,Rxf6,Rad1,Bf8,e5,Rxf5,Be4,Kg6,Kh2,Kg5,Rf1,Kf4,Rd3,Kxe4,Re3+,Kf4,Rd1,Bxd5', 'Rd4+,Be4,Rdxe4+,Kg5,Rg3#', 'https://lichess.org/training/OKzKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OkZYy', 'Rapid', 'Tseso', 1971, 'MagnusAndreCarlsenII', 2079, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Be3,Bb4,Ne2,O-O,a3,Bxc3+,Nxc3,c6,Bd3,Re8,O-O,Nbd7,Bg5,h6,Bh4,Nf8,Qf3,Bg4', 'Bxf6,Bxf3,Bxd8,Raxd8,gxf3', 'https://lichess.org/training/OkZYy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OL2UE', 'Rapid', 'Region-07', 2155, 'houko27', 2150, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bd3,Bg4,h3,Bh5,Be3,O-O,Qd2,Nd7,O-O-O,Nb6,g4,Bg6,Bxg6,fxg6,Bf4', 'Nc4,Qd3,Bxf4+', 'https://lichess.org/training/OL2UE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oL4gU', 'Blitz', 'GrossBorys', 2263, 'simit_gibi', 2193, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be2,O-O,O-O,a6,Kh1,c5,Nf5,Bxf5,exf5,d5,Bf3,d4,Ne4,Nc6,Nxf6+,Bxf6,g4,h6,Rg1,Rb8,Bg2,Ne5,f4,Nc4,Be4,Re8,Qf3,Qe7,Bd5,Ne3,g5,hxg5,fxg5,Bxg5,Bxe3,Qxe3,Qg4,Qe5,Bxf7+,Kxf7,Qh5+,Kg8,Rxg5,Qe4+,Rg2,Rf8,Qg6,Rf7,Rg1,Rbf8,h3,Qxf5,Qxf5,Rxf5,Rxg7+,Kh8,Rxb7,Rh5,Rgg7,Rxh3+,Kg2,Rh6,Rgc7,Rg8+,Kf2,Rf6+,Ke2,Re8+,Kd3,Rf3+,Kc4,Rf2,Rxc5', 'Rxc2+,Kxd4,Rd8+,Rd5,Rd2+', 'https://lichess.org/training/oL4gU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OlCqO', 'Classical', 'peymann', 1881, 'Michi7', 1848, 'e4,c5,Nf3,Nc6,b3,e6,Bb2,d5,exd5,exd5,d3,d4,c3,Nf6,cxd4,cxd4,Nbd2,Be6,Be2,Bc5,Nc4,Bb4+,Nfd2,Bxc4,bxc4,Qa5,a3,Bxd2+,Qxd2,Qxd2+,Kxd2,O-O,Bf3,Rfe8,Bxc6,bxc6,Bxd4,Re7,Rhe1,Rd7,Bc3,Rad8,Re3,Ng4,Rg3,h5,h3,Nxf2,Rxg7+,Kf8,Rg3', 'Ne4+,Kc2,Nxg3', 'https://lichess.org/training/OlCqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OldRT', 'Rapid', 'mko', 2134, 'aburisha111', 1931, 'd4,d5,c4,dxc4,Nc3,Nc6,e3,Nf6,Bxc4,e5,Nf3,e4,Ng5,Be6,Bxe6,fxe6,Ngxe4,Nxe4,Nxe4,Qd5,f3,O-O-O,O-O,e5,Nc3,Qf7,d5,Nb4,e4,Bc5+,Kh1,Bd4,Qb3,Nd3,Nd1,Rd6,Be3,Rb6,Qa4,Bxe3,Nxe3,Qe8,Qxa7', 'Ra6,Qxa6,bxa6', 'https://lichess.org/training/OldRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oLdv1', 'Blitz', 'JakeVorobei', 1821, 'Kuzhanov-Timur', 1900, 'e4,e6,d3,d5,exd5,Qxd5,Nf3,Qd8,Be2,Nf6,O-O,c6,h3,Nd5,Bg5,Be7,Bxe7,Qxe7,Nc3,Nd7,Nxd5,cxd5,d4,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,Qd3,O-O,Qb3,b6,Rad1,Qc7,Rfe1,Rac8,c3,Qb7,Qc2,a6,Ng5,g6,Qd3,b5,Qf3,Nh5,g4,Qe7,Nxe6,fxe6,Qxd5,Ng7,Qb3,Rf6,d5,Rcf8,dxe6,Rxf2,Qa3,Qxa3,bxa3,Rxa2,e7,Re8,Rd8,Rxa3,Rf1,Rxc3', 'Rf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/oLdv1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OLdwY', 'Rapid', 'lurtrester', 1828, 'DON-JAQUE', 1817, 'e4,e6,d4,g6,c3,Bg7,Be3,Nc6,Bd3,Nce7,Nd2,Nh6,h3,f5,f3,O-O,Qc2,b6,O-O-O,Bb7,g4,fxe4,fxe4,Nf7,Ngf3,Nd6,Rdf1,c5,h4,c4,Nxc4,Nxc4,Bxc4,d5,exd5,Nxd5,Bg5,Qd6,Nd2,a6,h5,b5,Bd3,Nf4,Bxf4,Rxf4,Ne4,Bxe4,Bxe4,Rc8,hxg6,Bxd4,gxh7+,Kh8,Qd3,b4,Kb1,bxc3,Rxf4', 'c2+,Qxc2,Rxc2,Bxc2,Qxf4', 'https://lichess.org/training/OLdwY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oLE1c', 'Rapid', 'rabelo', 1855, 'jbrzo', 1960, 'e4,e6,Bc4,a6,Nc3,b5,Bb3,Bb7,Nf3,d6,d4,h6,Qd3,Nf6,e5,dxe5,Nxe5,Be7,d5,exd5,f3,c5,Nxd5,Nxd5,Qf5,O-O,c4,bxc4,Bc2,Nf6,Ng4,Bc8', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/oLE1c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oLEgD', 'Blitz', 'FM ErgRaider', 2445, 'FM liczner', 2635, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,h4,dxc4,e4,Bg4,e5,Nd5,Bxc4,e6,Qb3,Nb6,Bg5,Qd7,O-O-O,Nc6,Bb5,Bxf3,gxf3,a6,d5,axb5,dxc6,Qxc6,Qxb5,Qxb5,Nxb5,Nd5,Rxd5,exd5,Nxc7+,Kd7,Nxa8,Rxa8,a3,Bxe5,h5,Ra6,f4,Bd4,hxg6,hxg6,Rd1,Bxf2,Rxd5+,Rd6,Rxd6+,Kxd6,Kd2,Kd5,Kd3,Bd4,b3,f6,Bh6,Bb2,a4,Ke6,Kc4,Kf5,b4,Bc1,a5,Ke6', 'f5+,Kxf5,Bxc1', 'https://lichess.org/training/oLEgD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('olgcx', 'Rapid', 'NajvaN', 1883, 'AutonamousRaster', 1841, 'e4,c5,Nf3,Nc6,Bc4,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,O-O,O-O,Qd2,Ne5,Bb3,a6,h3,Bd7,f4,Nc6,f5,Rc8,Rad1,Ne5,Bh6,Qe8,Nf3,Rxc3,bxc3,Nxe4,Qe3,Bxf5,Bxg7,Kxg7,Nh4,Qd7,Nxf5+,gxf5,Rf4,e6,Rh4,Ng6,Qh6+,Kf6,Rf1,Ke7,Rh5,Ng3', 'Qg5+,Ke8,Qxg3', 'https://lichess.org/training/olgcx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Olhuk', 'Rapid', 'amerzaky99', 1977, 'urssanpa', 2017, 'e4,c5,f4,g6,Nf3,Bg7,Bc4,Nc6,c3,d6,O-O,Nf6,e5,dxe5,fxe5,Ng4,Bxf7+,Kxf7,e6+,Bxe6', 'Ng5+,Kg8,Nxe6', 'https://lichess.org/training/Olhuk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('olHyi', 'Blitz', 'pythagor25', 1684, 'jpm37', 1692, 'd4,Nf6,Nf3,g6,c3,Bg7,g3,b6,Bg2,Bb7,O-O,O-O,b4,d6,a4,Nbd7,b5,Rc8,Nbd2,Re8,Ba3,Nd5,Bb2,e5,e3,exd4,Nxd4,Nc5,N2b3,Nf6,Nxc5,Bxg2,Kxg2,dxc5,Nc6,Qxd1,Raxd1,Ne4,Rc1,Nd2,Rfd1,Nc4,Ba1,Nd6,Nxa7,Ra8,Nc6,Rxa4,Rb1,Ne4,Rbc1,Ra3,c4,Bxa1,Rxa1,Rxa1,Rxa1,Nd6,Ra7,Nxc4,Rxc7,Kg7,Ne7,Nd6,Nd5,Nxb5,Rc6,Na7,Rxb6,Rc8,Rb1,Nc6,Rc1,Ne5,Nb6,Rc6,Nc4,Nd3,Rc3,Nb4,Rb3,Nd5,Rc3,Nb6,Nxb6,Rxb6,Rxc5,Rb2,e4,h5,Re5,Kh6,Kf3,Rb3+,Kf4,Rb2,Kf3,f6,Re6,Rb3+,Kf4', 'g5+,Kf5,Rf3#', 'https://lichess.org/training/olHyi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oli8R', 'Bullet', 'GM alireza2003', 2889, 'GM RebeccaHarris', 2797, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,d3,d6,a3,Bg4,Nbd2,Nd4,Ba2,c5,h3,Be6,c3,Nxf3+,Qxf3,Bxa2,Rxa2,Qd7,Nf1,Qe6,Ra1,Rfe8,Ne3,Bf8,Bd2,Rad8,c4,Rb8,b4,Nd7,Nd5,Rec8,Rec1,Nb6,Be3,Nxd5,cxd5,Qe8,Qd1,f6,f3,Rc7,Qb3,Rbc8,a4,c4,dxc4,Rxc4,axb5,Qxb5,Rxc4,Rxc4,Bd2,Qb6+,Kh2,Qd4,Be3,Rxb4,Qa3,Qc4,Qxa6,Qxa6,Rxa6,f5,exf5,Rb5,Ra8,Rxd5,f6,Kf7,fxg7,Bxg7,Ra7+,Kg6,Rd7,Bf6,Kg3,h5,Kf2,Rd3,Ke2,Rd5,f4,exf4,Bxf4,Be5,Be3,Bf6,Kf3,Kf5,g4+,hxg4+,hxg4+,Ke6,Ra7,Rd3,Ke2,Rb3,Ra6,Rb2+,Kd3,Rb3+,Ke4,Rb4+,Kf3,Rb3,Ke4,Be5,Kf3', 'Bd4,Ke4,Bxe3', 'https://lichess.org/training/oli8R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oLKIc', 'Rapid', 'Tschouni', 1865, 'ARQUEROSOLO', 1735, 'd4,Nf6,c4,g6,Nc3,d6,e4,Bg7,Nf3,c6,Be2,O-O,O-O,Nbd7,Be3,h6,Qd2,Ng4,Bf4,g5,Bg3,c5,d5,Nde5,h3,Nxf3+,Bxf3,Ne5,Bxe5,Bxe5,Bh5,f5,Rae1,fxe4,Nxe4,Bf5,Nxg5,hxg5,Qxg5+,Bg7', 'Rxe7,Qxe7,Qxe7', 'https://lichess.org/training/oLKIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ollgp', 'Classical', 'AlphaFour', 1654, 'mars2020', 1638, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,O-O,Bd7,Re1,Be7,d4,exd4,Nxd4,O-O,Nxc6,bxc6,Bc4,Qc8,h3,Be6,Bxe6,Qxe6,Bf4,Rab8,b3,Ne8,e5,dxe5,Bxe5,Qg6,Bxg7', 'Qxg7,Rxe7,Qxc3', 'https://lichess.org/training/Ollgp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oLM1a', 'Rapid', 'shubham010', 1710, 'Leonidch', 1739, 'b4,d6,Bb2,e5,e3,Be7,d4,Nf6,dxe5,dxe5,Qxd8+,Bxd8,Bxe5,O-O,Bd3,Re8,Bb2,Bg4,Ne2,Nc6,a3,Ne5,Bxe5,Rxe5,h3,Bxe2,Bxe2,Be7,Nd2,Rd8,Nf3,Red5,O-O,Ne4,Rad1,Nc3,Rxd5', 'Nxe2+,Kh2,Rxd5', 'https://lichess.org/training/oLM1a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('olmMZ', 'Blitz', 'daedalus-child', 1598, 'pyhyng', 1577, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,Re1,h5,c3,h4,h3,d5,exd5,Ne7,b4,Bd6,Qb3,Bxh3,gxh3,Qd7,Kg2,Ne4,d4,Rh5,Rxe4,Kd8,dxe5,Rh6,exd6,Rg6+,Kh2,Qxd6+,Bf4,Qf6,Nbd2,Nf5,Rae1,Qb6,Re8+,Kd7,Qa4+,c6,dxc6+,bxc6,Rxa8', 'Qxf2+,Kh1,Qg2#', 'https://lichess.org/training/olmMZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OlnoR', 'Rapid', 'icpetcu', 1908, 'krono101', 1819, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Bg4,h3,Bh5,g4,Bg6,Nxe5,Bxe4,Nxe4,Qe7,d4,f6,O-O,O-O-O,Nxc6,bxc6,Nc5,Qf7,Qf3,Bxc5,dxc5,Qd5,Qxd5,cxd5,Bf4,c6,Bd6,Nh6,Rfe1,Rhe8,Be7,Rd7,Bd6,Rdd8,Re3,Rxe3,fxe3,Re8,Re1,Nf7,Bf4,Ne5,Bxe5,Rxe5,Kf2,a5,b3,Kb7,c4,dxc4,bxc4,Rxc5,Rb1+,Kc7,Rc1,h6,e4,g5,Ke3,Re5,Rd1,c5,Rd5,a4,a3,Rxd5', 'exd5,f5,gxf5', 'https://lichess.org/training/OlnoR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oLofa', 'Blitz', 'NSoler', 2036, 'WIM ajam73', 2062, 'e4,d6,d3,Nf6,c3,e5,Qc2,Nbd7,Be2,c6,Nf3,Qc7,h3,Be7,O-O,O-O,Nh2,h6,f4,b5,f5,d5,Be3,dxe4,dxe4,Nc5,Nd2,a5,Ng4,Nxg4,Bxg4,Nd7,Rf2,Nf6,Bf3,c5,Nf1,c4,Nh2,Bc5,Bxc5,Qxc5,Rf1,Bb7,Qe2,Rad8,Ng4,Nh5,Nxh6+,gxh6,Bxh5,Rd3,f6,Kh8,Kh2,Rg8,Rf3,Rxf3,Rxf3,Rg5,Bg4,h5,Bf5,Qd6,Rg3,Qxf6,Rxg5,Qxg5,Qd1,Qf4+,Kh1,Bxe4', 'Qxh5+,Kg7,Qh7+,Kf6,Bxe4', 'https://lichess.org/training/oLofa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OLoSM', 'Rapid', 'oniav', 1833, 'Lauci', 1880, 'e4,e6,d4,d5,e5,c5,Qg4,cxd4,Nf3,Nc6,Bd3,Nb4,O-O,Nxd3,cxd3,Ne7,Bg5,h6,Bxe7,Qxe7,Nbd2,g5,h3,Bg7,Nb3,O-O,Rac1,Bd7,h4,f5,exf6,Bxf6,hxg5,hxg5,Qh5,e5,Rc7,Kg7,Nc5,Rh8,Rxd7,Qxd7', 'Qxh8+,Rxh8,Nxd7', 'https://lichess.org/training/OLoSM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OLoW7', 'Rapid', 'PoddaisyaMnePG', 2042, 'Maxim1465', 2028, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Bb4+,Nc3,Qa5,Bd2,Qb6,a3,Be7,Na4,Qc7,Bd3,a6,O-O,b5,Nc3,Nh6,Rc1,Qb6,Be3,Ng4,h3,Nxe3,fxe3,O-O,Nh2,Bg5,Rf3,f5,Rg3,Bh6,Qh5,Bd7', 'Qxh6', 'https://lichess.org/training/OLoW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oLPD8', 'Rapid', 'paul-uk', 1910, 'albertg98', 1783, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Nb6,Bxf7+,Kxf7,Ne5+,Kg8,Bxf4,Qd4+,Kh1,Qxb2,Nd2,Bd6,Rb1,Qd4,Qh5,g6,Nxg6,hxg6,Qxg6+,Qg7,Qe8+,Qf8,Qe3,Bxf4,Rxf4,Qh6,Qg3+,Qg7,Qf3,Nc6,Ne4,Ne5,Qf2,Ng4,Rxg4,Bxg4,Nf6+,Kf7', 'Nh5+,Kg8,Nxg7', 'https://lichess.org/training/oLPD8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OLTee', 'Rapid', 'Krivoi_Sniper', 2391, 'MommmaKnight', 1949, 'e4,c5,Nf3,d6,Bb5+,Nd7,Ba4,a6,c4,Nf6,O-O,e5,Nc3,Be7,d3,h6,Nh4,O-O,Bxd7,Bxd7,Nf5,Bxf5,exf5,d5,cxd5,Nxd5,Qf3,Nxc3,bxc3,Rb8,Rd1,Bg5,Bxg5,Qxg5,Re1,Qf6,Qd5,Rfe8,Qxc5,Qxf5,d4,Rbc8,Qa5,b5,Qxa6,exd4,cxd4,Qd5,Qa7,Red8,Red1,Ra8,Qe7,Re8,Qb4,Rec8,a3,Ra4,Qb2,Rcc4,Rab1,Rxd4,Re1,b4', 'Re8+,Kh7,Qc2+,Rd3,Qxa4', 'https://lichess.org/training/OLTee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oluIT', 'Rapid', 'MrOwO', 1910, 'gieronVV', 1898, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,f3,d6,Be3,Nbd7,Nge2,e5,d5,Nh5,g4,Nhf6,Qd2,Nc5,Ng3,Nxg4,fxg4,Bxg4,h4,f5,Bxc5,dxc5,Be2,Bxe2,Ngxe2,f4,O-O-O,f3,Ng3,h5,Rdf1,Kh7,Qe3', 'Bh6,Qxh6+,Kxh6', 'https://lichess.org/training/oluIT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OLuOM', 'Blitz', 'pluton999', 1781, 'TOLSA', 1765, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Be2,Nc6,O-O,Be7,Bf4,O-O,c3,Bg4,Nbd2,Ne4,Nxe4,dxe4,Nd2,Bf5,Re1,Bg5,Bg3,e3,fxe3,Bxe3+,Kh1,Qg5,Nf3,Qh6,Bxc7,Rfe8,Bc4,Bf2,Rxe8+,Rxe8,Qb3,Be6,d5,Qe3,dxe6,fxe6,Rf1,Na5,Bxa5,Rf8,Bxe6+,Kh8,h3,Rxf3,Bd5', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/OLuOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oluuG', 'Rapid', 'DuarteGouveia', 1712, 'solsado', 1750, 'e4,e5,Nf3,d6,h3,Nf6,d4,Be7,Nc3,Nbd7,Bg5,c6,Bc4,O-O,O-O,h6,Bh4,Re8,dxe5,dxe5,Bg3,Qc7,Qe2,Nh5,Nh4,Nxg3,fxg3,Nf6,Nf5,Qb6+,Kh1,Bb4,a3,Ba5,Nd6,Bxc3,bxc3,Rd8,Nxf7,Rf8,Nxe5+,Kh8,Nf7+,Kh7,e5,Nd5,Qe4+,g6,Ng5+,Kg7,Bxd5,cxd5,Qxd5,hxg5,Rf3,Rxf3,Qxf3,Be6,Qf6+,Kg8,Rd1,Rf8,Qxg6+,Kh8,Qh6+,Kg8,Qxg5+,Kh7,Rd6', 'Rf1+,Kh2,Qg1#', 'https://lichess.org/training/oluuG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OLwgf', 'Rapid', 'lekope', 1728, 'TheIronKing23', 1811, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Re1,Nf6,c3,a6,Ba4,b5,Bb3,Na5,Bc2,Nc4,b3,Nb6,d4,Bg4,Bg5,Be7,h3,Bh5,Nbd2,O-O,Qb1,exd4,cxd4,Bg6,e5,dxe5,Bxg6,fxg6,dxe5,Nfd5,Bxe7,Qxe7,Qb2,Nf4,Qc2,c5,Rad1,Rad8,Ne4,c4,Rxd8,Qxd8,Rd1,Qe7,Nd6,Nxh3+,Kh2,Nf4,Qe4,Nd3,bxc4', 'Nxf2,Qd4,Nxd1', 'https://lichess.org/training/OLwgf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oLWt8', 'Rapid', 'ThomasThiel', 2177, 'propagandus', 2057, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Qg4,Qc7,Bd2,cxd4,cxd4,Qxc2,Qxg7,Rg8,Qf6,Qe4+,Ne2,Nbc6,f3,Qf5,Qxf5,Nxf5,Bc3,Bd7,h4,Ne3,Kf2,Nxf1,Rhxf1,Ke7,Bd2,Rgc8,Rfc1,b5,a4,b4,a5,Rab8,Rcb1,Rb5,Ra4,Rcb8,a6,b3,Rb2,R5b6,Nc1,Nxe5,Bg5+,f6,Bxf6+,Kxf6,dxe5+,Kxe5,Ra3,d4,Rbxb3,Rxb3,Nxb3,Kd5,Ra5+,Kc4,Nd2+,Kd3,Ne4,Rb2+,Kg3,Ke3,Rc5,d3,Rc7,Bb5,Nc3,d2', 'Nd1+,Kd4,Nxb2', 'https://lichess.org/training/oLWt8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OLWUV', 'Rapid', 'Kasparok2221', 1907, 'ruslopuslo', 1724, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,Bb4,Bd3,d5,exd5,Nxd5,Bd2,Nd4,O-O,Bg4,Re1,f6,Nxd5,Bxd2,Qxd2,Bxf3,Nc3,Bc6,Rad1,Qd7,Be4,O-O,Bxc6,Qxc6,Ne2,Rad8,Nxd4,Rxd4,Qc1,Rg4,g3,Qf3,Re3,Qf5,c4,h5,b4,h4,Qc3,hxg3,Rxg3,Rxg3+,hxg3,Qe6,a3,Rc8,c5,b6,Qc2,bxc5,bxc5,Qe7,Rc1,Kf8,a4,Rc6,Qc4,Qc7,Qd5,g6,Rc4,Kg7,Rc1,Ra6,c6,Rxa4,Qd7+,Qxd7,cxd7,Rd4,Rc7,Kh6,Rxa7,Kg5,Kf1,Kg4', 'Ra4,Rxa4,d8=Q', 'https://lichess.org/training/OLWUV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('olXId', 'Rapid', 'xxxDiogo', 1708, 'recfish', 1911, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,Bf4,a6,e3,Bf5,h3,e6,g4,Bg6,Ne5,Be7,Qa4,Qb6,Nxg6,hxg6,Rb1,Nxg4,Be2,Nf6,O-O,Rxh3,Kg2,Rh8,Rh1,Kd7,a3,Nh5,b4,Nxf4+,exf4,Qc7,Rxh8,Rxh8,b5,axb5,Bxb5,Qxf4', 'Bxc6+,bxc6,Rb7+', 'https://lichess.org/training/olXId');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OLZPn', 'Rapid', 'Estiqaatsi', 2209, 'sodiak', 2125, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Be2,d6,Be3,c6,Nf3,Bg4,O-O,Bxf3,Bxf3,e5,Bg5,h6,dxe5,dxe5,Qxd8,Rxd8,Be3,Na6,Rfd1,Nc7,Rxd8+,Rxd8,Bxa7,Rd2,Rb1,Ne6,Be3,Rd3,Be2,Rd7,f3,Nd4,Kf1,Nh5,g3,f5,exf5,gxf5,Rd1,f4,Bxd4,Rxd4,g4,Nf6,Rxd4,exd4,Ne4,Nxe4,fxe4,Kf7,b4,Ke6,Bf3,Ke5,a4,d3,b5,Kd4,bxc6,bxc6,a5,Kxc4', 'a6,Bd4,e5', 'https://lichess.org/training/OLZPn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OM11j', 'Rapid', 'calebc100', 2079, 'ygcruz', 2062, 'e4,c5,Nf3,Nc6,b3,g6,Bb2,Nf6,e5,Nh5,e6,Bg7,exf7+,Kf8,Bxg7+,Nxg7,Nc3,e6,Bb5,Qf6,O-O,Kxf7,Ne4,Qe7,Nfg5+,Ke8,Bxc6,bxc6,Nf3,Rf8,d4,cxd4,Qxd4,Nf5,Qc3,Rb8,Rad1,Qb4,Qe5,Rb5,Qc7,Ke7,Neg5,h6,Nh3,g5,Ne5,Rb7,Nxc6+,Kf7,Nd8+,Kg6,Nxb7,Bxb7,Qc4,Qb6,Rxd7,Ne3,Qc3,Nf5,Kh1,Rc8,Rxb7,Qxb7,Qe1,Nh4,Qxe6+,Kh7,f3,Rxc2,Qe4+,Qxe4,fxe4,Re2,Rf7+,Kg6,Rf1,Rxe4,g3,Nf5,Rf2,Re1+,Kg2,Ne3+,Kf3,g4+,Kf4,h5,Ng1', 'Nd5#', 'https://lichess.org/training/OM11j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OM1Tq', 'Blitz', 'birds_in_flight', 1640, 'kjel', 1749, 'e4,d6,d4,Nc6,d5,Ne5,f4,Nd7,f5,g6,fxg6,hxg6,Nc3,Bg7,Bd2,Nh6,Bb5,a6,Ba4,b5,Nxb5,axb5,Bxb5,Kf8,Nf3,Ne5,Nxe5,Bxe5,Qf3,Rb8,c4,Bxb2,O-O,Bxa1', 'Bxh6+,Rxh6,Qxf7#', 'https://lichess.org/training/OM1Tq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oM26t', 'Rapid', 'YAH80', 1739, 'Her_O_inAdd', 1788, 'e4,c5,Nf3,g6,h4,h5,Bc4,a6,a4,Nc6,Nc3,e6,d3,Bh6,Nd2,Nge7,O-O,d5,exd5,exd5,Ba2,O-O,Ne2,Nf5,g3,Ncd4,Nxd4,Nxd4,c3,Bg4,f3,Bh3,cxd4,Bxf1,Qxf1,Re8,dxc5,Qc7,Qf2', 'Be3,Nf1,Bxf2+', 'https://lichess.org/training/oM26t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('om2L4', 'Rapid', 'janpohner', 1797, 'drachlin', 1875, 'e4,g6,d4,Bg7,Nc3,c6,e5,d5,Qf3,f6,exf6,Nxf6,Be3,O-O,Qg3,Nbd7,Be2,Qe8,h4,e5,O-O-O,e4,h5,gxh5,Bh6,Qg6,Bxg7,Qxg3,fxg3,Kxg7,Bxh5,Nxh5,Rxh5,Nf6,Re5,Bg4,Nge2,Nh5', 'Rg5+,Kh8,Rxg4', 'https://lichess.org/training/om2L4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OM6RJ', 'Blitz', 'agnivo2008', 2204, 'BorisPogorelov', 2289, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,d4,exd4,Nc3,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Re1,d6,Rxe4+,Ne7,Ng5,Qd7', 'Qf7+,Kd8,Ne6+,Qxe6,Rxe6,Bxe6,Qxe6', 'https://lichess.org/training/OM6RJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oM7KP', 'Rapid', 'P-H-Pearse', 1758, 'Berserk_player4991', 1949, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,Bxc3+,bxc3,O-O,e3,d5,cxd5,exd5,Bd3,Bg4,h3,Bxf3,gxf3,Nbd7,Ke2,c5,Qg1,cxd4,cxd4,Rc8,e4,dxe4,fxe4,Qa5,Bh6', 'Qh5+,f3,Qxh6', 'https://lichess.org/training/oM7KP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oMaE3', 'Rapid', 'No_shelter_here', 1707, 'peepal_farm', 1653, 'd4,Nf6,Bf4,d6,Qd3,Bd7,Nc3,c5,dxc5,dxc5,O-O-O,e6,Be5,Be7,g4,O-O,Nf3,Qb6,Ng5,h6', 'Bxf6,hxg5,Bxe7', 'https://lichess.org/training/oMaE3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('omalD', 'Classical', 'Volkanov_Sergey', 2158, 'KingMelchior', 2009, 'e4,c5,Nc3,Nc6,g3,g6,d3,Bg7,Nge2,b6,Bg2,Bb7,O-O,e5,Nd5,Nge7,Bg5,h6,Bf6,O-O,Qd2,Qe8,Bxg7,Kxg7,Nc7,Qd8,Nxa8,Bxa8,f4,exf4,Rxf4,Ne5,Raf1,d5,h3,f5,exd5,Nxd5,R4f2,c4,dxc4,Nf6,Qxd8,Rxd8,Bxa8,Rxa8,b3,Rd8,Nf4,Re8,Rd2,Ne4,Rd5,Nxg3,Re1,Nf3+,Kf2,Nxe1,Kxg3,Re3+,Kf2,Nxc2,Rd2,Re4,Kg3,Nd4', 'Rxd4,Rxd4,Ne6+,Kf6,Nxd4', 'https://lichess.org/training/omalD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oMBq8', 'Rapid', 'shmsn', 1917, 'Orion300', 2038, 'c4,c5,Nc3,Nc6,e4,e6,d3,Nge7,Be2,Nd4,Nf3,Nec6,a4,a6,Be3,g6,O-O,Bg7,Rb1,O-O,h3,d6,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/oMBq8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('omcMu', 'Rapid', 'pilotman', 1891, 'illubillu', 1683, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bg4,h3,Bh5,Nc3,c6,Be3,Bd6,Qd2,Nbd7,O-O-O,Bxf3,gxf3,Qc7,Rhg1,g6,Kb1,O-O-O,Bg5,h6,Bh4,g5,Bg3,Nh5,Bxd6,Qxd6,Bf5,Kb8,Ne2,Nf8,Qe3,Ne6,Bxe6,Qxe6,Qe5+,Qxe5,dxe5,Rde8,f4,gxf4,Rg4,f3,Nf4,Nxf4,Rxf4,Rxe5,Rxf7,Re2,Rxf3,Rhe8,Kc1,Kc7,Rf6,R8e6,Rxe6,Rxe6,Kd2,Kd6,Rg1,Re7,h4,h5,Rg5,Re5,f4,Rxg5,fxg5,Ke6,Ke3,a6,a3,b5,Kd4,a5,Kc5,b4,axb4,axb4,Kxc6,d4,Kc5', 'b3,cxb3,d3', 'https://lichess.org/training/omcMu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OMCow', 'Blitz', 'Carprenter', 1807, 'shahin56', 1839, 'e4,Nf6,Nc3,d5,exd5,Nxd5,d4,Nxc3,bxc3,c5,Ba3,e6,Bb5+,Nc6,Nf3,Be7,O-O,cxd4,Bxc6+,bxc6,Bxe7,Qxe7,cxd4,O-O,Ne5,Bb7,Rb1,Rad8,c3,c5,Qd3,cxd4,cxd4,Ba8,Rfd1,Qc7,Qg3,Rd5,h3,Rfd8,Rb4,Qxe5,dxe5,Rxd1+,Kh2,Ra1,a4,h6,h4,Be4,Qe3,Bf5,Qxa7,Rdd1,Rb8+,Kh7,Qxf7,Rh1+,Kg3,Ra3+,Kf4', 'Rxh4+,g4,Rxg4#', 'https://lichess.org/training/OMCow');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oMd09', 'Classical', 'izidora88', 1652, 'hydrtnrvr', 1654, 'd4,d5,c4,dxc4,e4,Nf6,Nc3,Nc6,Nf3,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd1,e5,Bxc4,Bb4,Qa4+,Nc6,Bb5,Bxc3+,bxc3,O-O,Ba3,Re8,O-O,a6,Bxc6,bxc6,Qxc6,Qd3,f3,Qe3+,Kh1,Rec8,Rfe1,Qb6,Qa4,Nh5,Rab1,Qf2,Rf1,Qe3,Qc6,Ng3+,Kh2,Nxf1+,Rxf1,Qe2,Rc1,Qxa2,Qc5,Qd2,Qxe5,h6,f4,Qa2,Bc5,Qb2,Rg1,c6,Bd4,f6,Qd6,Qb8,Qe6+,Kh8,e5,Re8,Qd7,Qd8,Qxc6,fxe5,Bxe5,a5,g3,a4', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/oMd09');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oMD0O', 'Classical', 'Slim01', 1798, 'ReedPhillip', 1806, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Ne7,Bd3,Nd7,O-O,f6,exf6,Nxf6,dxc5,Qxc5,Bf4,Ng6,Bxg6+,hxg6,Qd3,Ne4,Nbd2,Nxd2,Qxg6+,Kd7,Ne5+,Ke7,Qf7+,Kd8,Nc6+,Qxc6', 'Bg5+,Be7,Qxe7#', 'https://lichess.org/training/oMD0O');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 26;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet27 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oMEbC', 'Blitz', 'PKChattopadhyay', 1681, 'sanchi_j_shah321', 1892, 'e4,g6,Nf3,Bg7,d4,d6,c4,Nf6,Nc3,O-O,Be3,Nc6,a3,Bg4,Be2,Nd7,O-O,Bxf3,Bxf3,e5,d5,Ne7,Bg5,Qe8,Qd2,f5,Bh6,f4,Bxg7,Kxg7,Bg4,Nf6,Be6,c6,Qe2,cxd5,cxd5,Neg8,g3,g5,gxf4,gxf4,Kh1,Kh8,Rg1,Nh6,f3,Qh5,Rg2,Nf7,Rag1,Nd8,Bf5,Nf7,Rg7,Qh6,Qg2,Rac8,Nd1,Rc7,Nf2,Rc2,b4,Ra2,Be6,Nd8,Rg8+,Nxg8', 'Qxg8+,Rxg8,Rxg8#', 'https://lichess.org/training/oMEbC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('omEVy', 'Rapid', 'erdal', 1685, 'BelAN', 1727, 'd4,d5,e3,e6,Nf3,c5,c4,Nf6,Ne5,Bd6,cxd5,exd5,Bb5+,Bd7,Bxd7+,Nbxd7,Nxd7,Qxd7,Nc3,O-O,O-O,Qc7,Nb5,Qd7,a4,a6,Nc3,c4,Qf3,Bc7,h3,Rad8,Re1,Qd6,g3,Qe6,Kg2,Qd7,e4,dxe4,Nxe4,Qxd4,Nxf6+,Qxf6,Qxf6,gxf6,Bh6,Rfe8,Kf1,Be5,Re4,b5,Rg4+,Kh8,Bg7+,Kg8,Bxf6+,Kf8,Bxd8,Rxd8,axb5,axb5,Re4,Bxb2,Rb1,c3,Rb4', 'c2,R4xb2,Rd1+,Rxd1,cxd1=Q+', 'https://lichess.org/training/omEVy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OMgi5', 'Classical', 'pionnenvreter', 2072, 'Yuan0204', 2034, 'd4,Nf6,Nf3,d5,c4,Nc6,Nc3,b6,cxd5,Nxd5,e4,Nxc3,bxc3,e6,Bb5,Bd7,Qa4,Ne7,Bxd7+,Qxd7,Qxd7+,Kxd7,Ne5+,Ke8,Ba3,f6,Nd3,Ng6,Bxf8,Kxf8,O-O,h5,f4,h4,f5,exf5,exf5,Ne7,Nf4,Kf7,Rf3,Nxf5,Nd5,Ne7,Nxc7,Rad8,Re1,a5,Ne6,Rc8,Ng5+,Kf8,h3,Nd5,Ne4,Rc6,c4,Rxc4', 'Nd6,Rc8,Nxc8', 'https://lichess.org/training/OMgi5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('omhhe', 'Rapid', 'Dragonflydoji', 1700, 'piannamor', 1777, 'd4,Nf6,Nf3,e6,e3,d5,Bd3,c5,c3,Nc6,O-O,Be7,Nbd2,c4,Bc2,b5,e4,O-O,Qe2,dxe4,Nxe4,Nxe4,Qxe4,f5,Qxc6,Rb8,Ne5,Qd5,Qxd5,exd5,Nc6,Rb7,Nxe7+,Rxe7,Bg5,Re2,Rac1,h6,Be3,f4,Bd1,Rxb2,Bxf4,Rxf4,Bf3,Bb7,Rfe1,Rf6,Re7,Bc6,Rxa7,b4,Ra6,bxc3', 'Rxc6,Rxc6,Bxd5+,Kf8,Bxc6', 'https://lichess.org/training/omhhe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('omIJm', 'Rapid', 'DeepSushi', 1730, 'Sushant64', 1675, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d3,d6,Nbd2,Bd7,c3,Nh7,Bb3,f5,h3,f4,Nh2,g5', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/omIJm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OMJ0V', 'Rapid', 'Merpicjusz', 1670, 'Tea_Whisper', 1618, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,cxd5,Nxd5,Bxe7,Qxe7,Nf3,b6,e4,Nxc3,bxc3,Bb7,Bb5+,c6,Bc4,O-O,O-O,Rd8,Qc2,c5,Rfd1,Nc6,d5,Na5,Be2,exd5,exd5,Bxd5,Re1,Qf6,Rad1,Bxf3,Rxd8+,Rxd8,Bxf3,Nc4,Qa4,Ne5,Re3,Nxf3+,Rxf3,Qe7,Re3,Qf8,h3,h6,Qxa7,Ra8,Qxb6,Rxa2,Qb3,Ra1+,Kh2,Qd6+,g3,Qd2', 'Re8+,Kh7,Qxf7', 'https://lichess.org/training/OMJ0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Omk0P', 'Rapid', 'Sprenger1', 1841, 'mate_serdar', 1863, 'e4,b6,f4,e6,Nf3,Nc6,c3,Bb7,d4,Nge7,Bd3,Ng6,Be3,Be7,Nbd2,O-O,O-O,f5,exf5,exf5,Ne5,Ncxe5,fxe5,Bg5,Bxg5,Qxg5,Qc2,Nf4,Nf3,Nh3+,Kh1,Bxf3,Rxf3,Nf4,Rg3,Qh5,Bc4+,Kh8,Rf1,Ne6,Bd3,f4,Rgf3,g6,Bc4,Rae8,Bxe6,dxe6,Rxf4,Rxf4,Rxf4,Qg5,Rf3,c5,Rf1,Qe3,Qd1,Rd8,Rf3,Qxe5', 'Rf8+,Rxf8,dxe5', 'https://lichess.org/training/Omk0P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oMLDR', 'Rapid', 'Harpia1965', 1748, 'NikoFritz', 1748, 'e4,c6,d3,d5,Nd2,Nf6,Qe2,Bg4,Ngf3,e5,g3,Nbd7,Bg2,h6,h3,Bh5,exd5,cxd5,g4,Bg6,Nxe5,Nxe5,Qxe5+,Qe7,Nf3,Rc8,Qxe7+,Bxe7,Nd4,Bc5,Be3,Bxd4,Bxd4,Rxc2,Kd1,Bxd3,Bf1,Be4,Rg1,O-O,f3,Rfc8,fxe4,Nxe4,Bd3', 'Rd2+,Ke1,Rxd3', 'https://lichess.org/training/oMLDR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OmlIk', 'Blitz', 'Silvana14', 1638, 'imotko', 1646, 'Nf3,c5,c4,e6,Nc3,Nc6,g3,a6,Bg2,g6,O-O,Bg7,e3,f5,d4,cxd4,Nxd4,Nge7,Nxc6,Nxc6,Ne2,Ne5,c5,Qa5,c6,Nxc6,Bxc6,dxc6,Bd2,Qb5,Rb1,O-O,Bc3,Bxc3,bxc3,Qd5,Qc2,b5,Rfd1,Qc5,Nf4,Kg7,Rd3,e5,Nh3,h6,Rbd1,a5,Rd8,Rxd8,Rxd8,f4,gxf4,Bxh3,Rxa8,exf4,exf4,Qd5,Ra7+,Kf6,f3,Qxf3,Qd2,Qg4+,Kh1', 'Qf3+,Kg1,Qf1#', 'https://lichess.org/training/OmlIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Omn3I', 'Rapid', 'saltafoss', 1649, 'Hachirafa', 1611, 'd4,e6,Bf4,c5,e3,cxd4,exd4,Nc6,c3,d5,Nf3,Nf6,Nbd2,Bd6,Bxd6,Qxd6,Bb5,a6,Ba4,b5,Bc2,O-O,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,Re1,Qd6,Nf3,Bg4,Qd3,Bxf3,Qxf3,h5,h3,Rae8,Kf1,Rxe1+,Rxe1,a5,Bd1,Ne4,Re2,Qh2,g3,Qxh3+,Qg2,Qd7,Bc2,Ng5,Re5,Qg4,Rxd5,Nf3,Bd1', 'Qc4+,Be2,Qxd5', 'https://lichess.org/training/Omn3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Omnjl', 'Blitz', 'elgoldocloss', 1807, 'w105', 1790, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,c4,e6,Nc3,Nf6,Bd3,Bxd3,Qxd3,Bd6,c5,Bc7,Bg5,Nbd7,b4,a6,a3,O-O,O-O,h6,Bh4,Qc8,Bxf6,Nxf6,Ne5,Nd7,f4,Qd8,Rf3,Qh4,Raf1,Nxe5,fxe5,Rad8,Rh3,Qg5,Rg3,Qh5,Rff3,Qh4,Ne2,f6,Rf4,Qh5,Rh3,Qe8,Qg3,fxe5,Rxf8+,Qxf8,Rxh6,Rd7,dxe5,Rf7,h4,Rf5,Rxe6,Qf7,Qg6,Rf1+,Kh2,Bxe5+,Ng3,Bxg3+,Kxg3', 'Qf4+,Kh3,Rh1#', 'https://lichess.org/training/Omnjl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oMO2U', 'Rapid', 'rubinathomas92', 1758, 'JasonG23', 1807, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,a6,Ba4,b5,Bb3,d6,d4,Bb6,h3,h6,Nbd2,exd4,cxd4,Nxd4,Nxd4,Bxd4,Qf3,Nf6', 'e5,Rb8,exf6', 'https://lichess.org/training/oMO2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OMOAb', 'Blitz', 'Jconosur', 1879, 'dominguez1986', 1911, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,e6,O-O,Nc6,c3,Bd6,b4,Qh5,h3,Ne5,hxg4', 'Nxf3+,Bxf3,Qh2#', 'https://lichess.org/training/OMOAb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OMohy', 'Blitz', 'Dendes', 1666, 'jarcast', 1581, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,f5,Nc3,Qe7,Bb5,Bd7,O-O,a6,Nd5,Qd8,Bd3,Nxe5,Nxe5,dxe5,Qh5+,g6,Qe2,f4,g3,c6,Nc3,Bd6,Qf3,Qc7,h4,Nf6,Qg2,O-O-O,a4,Bg4,Be2,f3,Bxf3,Bxf3,Qxf3,Rhf8,Bh6,Rf7,Bg5,Nh5,Qg4+,Kb8,Bxd8,Qxd8,Ne2,Nf6,Qf3,Qd7,Qd3,Kc7,Rad1,Qe6,c3,Rd7,Qc2,Qh3,f3,Nh5,Rf2,Nxg3,Rh2,Nxe2+,Qxe2,Qg3+,Qg2,Qf4,Rd2,Bc5+,Kh1,Rxd2,Qxd2', 'Qxf3+,Qg2,Qd1+,Qf1,Qxf1#', 'https://lichess.org/training/OMohy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oMOnG', 'Rapid', 'kralsuleyman', 1752, 'jadharb99', 1716, 'e4,c5,d3,e6,f4,d5,exd5,exd5,Nf3,Nc6,d4,Nf6,Bb5,a6,Bxc6+,bxc6,O-O,Be7,Ne5,Bd7,Be3,O-O,dxc5,Qa5,Nd3,Bf5,b4,Qb5,Nc3,Qc4,Qd2,Bxd3,cxd3,Qxb4,Rab1,Qa5,Nxd5,Qxd2', 'Nxe7+,Kh8,Bxd2', 'https://lichess.org/training/oMOnG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OMoxg', 'Rapid', 'ergin_klc25', 1816, 'Mastim', 1786, 'Nf3,g6,e4,d6,d4,Bg7,h3,Nf6,Nc3,O-O,Bd3,e5,dxe5,dxe5,O-O,Nc6,Bg5,h6,Bh4,g5,Bg3,Nh5,Bh2,f5,Nxe5,Nxe5,Bxe5,Bxe5,Qxh5,Qd6,Bc4+,Kh7,Rad1,Qg6,Qxg6+,Kxg6,Rd5,Bxc3,exf5+,Bxf5,bxc3,Bxc2,Rd7,Rac8,Re1,Bf5,Rde7,a6,g4,Bc2,R1e6+,Rf6,Rxf6+,Kxf6,Rf7+,Ke5,Re7+,Kf4,Be6,Rd8,Rxc7', 'Rd1+,Kh2,Be4,Rf7+,Ke5', 'https://lichess.org/training/OMoxg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oMpIP', 'Classical', 'blogwithric', 1683, 'Wauz703', 1702, 'e4,c5,a3,e6,h3,a6,Nf3,Nc6,Nc3,Qc7,Bc4,b5,Ba2,Nf6,d3,h6,g4,Ne5,g5,Nxf3+,Qxf3,hxg5,Bxg5,Be7,O-O-O,Bb7,Bf4,e5,Bg5,b4,Nd5,Bxd5,exd5,Rb8,a4,d6,Bb3,Qd7,Qg3,Nh5,Qg4,Qxg4,hxg4,Bxg5+,Kb1,g6,gxh5,gxh5,Rdg1,f6,Rg2,h4,Rg4,Ke7,Bc4,a5,b3,Rh6,Bb5,h3,Rg3,Rbh8,Kb2,Kf7,Bd7,h2,Bf5,Bf4,Rg2,Rg8', 'Be6+', 'https://lichess.org/training/oMpIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oMpjh', 'Rapid', 'check_the_ripper', 1806, 'Elof2', 1755, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe5+,Kg8,Qf3,Nf6,O-O,Bd6,d4,Nc6,Nxc6,dxc6,Bg5,h6,Bh4,Bg4,Qb3+,Kh7,Nc3,b6,Ne4,g5', 'Qf7#', 'https://lichess.org/training/oMpjh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('omQkV', 'Rapid', 'Anton23rus', 1661, 'hassanmanaie', 1763, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,a6,d4,e6,c3,Nc6,Be3,Nf6,Nf3,Be7,Nbd2,O-O,h3,b5,Bc2,Bb7,Nf1,b4,Qd3,g6,Bh6,Re8,Ba4,bxc3,bxc3,a5,Bxc6,Bxc6,Ne5,Bb7,h4,Ba6,Qf3,Bf8,Bg5,Bg7,h5,Qc7,Bxf6,Bxf6,Qxf6,Qxc3+,Nd2,Qxa1+,Nb1,Qxb1+,Kd2,Qb4+,Ke3,Rac8,Qxf7+,Kh8,Nxg6+,hxg6', 'hxg6#', 'https://lichess.org/training/omQkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OMrzN', 'Blitz', 'Hedsch', 2127, 'hbeck', 2193, 'd4,Nf6,Nf3,e6,Nbd2,d5,e3,c5,Bd3,Nc6,b3,cxd4,exd4,Bd6,Bb2,O-O,Ne5,Qb6,Ndf3,Nd7,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Nf6,Qh4,Ne7,Ng4,Rd8', 'Nxf6+,gxf6,Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/OMrzN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oMsl2', 'Blitz', 'M_786_YB', 2309, 'WGM Warrior_5', 2469, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bd3,O-O,O-O,Bg4,Re1,Nd7,h3,Bh5,Bf5,Re8,Rxe8+,Qxe8,Be3,Nb6,g4,Bg6,Bxg6,hxg6,Qd3,Nd5,c4,Nf4,Bxf4,Bxf4,Re1,Qd7,b4,a5,a3,axb4,axb4,b5,cxb5,cxb5', 'Qe4,Rc8,Qxf4', 'https://lichess.org/training/oMsl2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OmxoX', 'Rapid', 'Arko17', 1768, 'Robertosalazar1', 1743, 'd4,Nf6,c4,e5,d5,Bb4+,Bd2,Bxd2+,Qxd2,c6,Nc3,O-O,e4,d6,Rd1,Bg4,Nge2,Na6,h3,Bh5,dxc6,bxc6,Qxd6,Qxd6,Rxd6,Nc5,f3,Rfd8,Rd2,Rab8,b3,Nd3+,Rxd3,Rxd3,Kf2,Rbd8,Na4,Rd2,Nc5,Rxa2,Kg3,Rb8,Nc3,Ra5,N3a4,Kf8,Be2,Ke7,Rd1,Bg6,Kf2,Rxb3,Nxb3,Rxa4,g4,Nd7', 'Rxd7+,Kxd7,Nc5+,Kd6,Nxa4', 'https://lichess.org/training/OmxoX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('omxu1', 'Blitz', 'spishanc', 1721, 'bayburcyan15', 1740, 'e4,e5,Nf3,d6,Bc4,Be7,c3,Nf6,d3,O-O,Nbd2,c6,O-O,Bg4,h3,Bh5,Bb3,d5,exd5,cxd5,Nxe5,Bxd1,Bxd1,Bd6,f4,Bxe5,fxe5,Nfd7,d4,Nc6,Nf3,f6,Bb3,fxe5,Bxd5+,Kh8,Nxe5,Rxf1+,Kxf1,Ncxe5,dxe5,Nxe5,Bb3,Qf6+,Kg1,Nd3,Be3,Nxb2,Bd4,Qf5,Rf1,Qe4,Rf7,Rg8', 'Bxg7+,Rxg7,Rf8+,Rg8,Rxg8#', 'https://lichess.org/training/omxu1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('On1Bz', 'Blitz', 'jop2020', 1549, 'SeanRobinson', 1545, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,a3,Be7,e4,b6,Qf3,Bb7,Bd3,Nc6,Be3,d6,Nge2,e5,d5,Nb8,Ng3,Nbd7,b4,c5,O-O,a5,b5,Bc8,Nf5,Re8,Qg3,g6,Nh6+,Kf8,Be2,Kg7,Bg5,Rh8,f4,exf4,Rxf4,Ne5,Qh4,Ng8,Raf1,Bxg5', 'Rxf7+,Nxf7,Rxf7#', 'https://lichess.org/training/On1Bz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oN1fh', 'Bullet', 'crawdad14', 1661, 'enjoyinglife78', 1732, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Bc4,d6,Qb3,Qe7,O-O,h6,Nxc3,Bg4,Nd5,Qd7,h3,Bxf3,gxf3,O-O-O,Be3,Na5,Qc3,Nxc4,Qxc4,Kb8,Rac1,c6', 'Bxa7+,Kxa7,Qa4+,Kb8,Nb6', 'https://lichess.org/training/oN1fh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oN1js', 'Classical', 'wknezevic', 1638, 'inaciosua', 1622, 'd4,Nf6,Nf3,e6,Bf4,c5,e3,a6,c3,cxd4,exd4,d5,Be2,Bd6,Bxd6,Qxd6,Nbd2,O-O,O-O,Bd7,Qc2,Re8,Bd3,Bb5,c4,Bxc4,Nxc4,dxc4,Bxc4,b5,Bd3,Nc6,Be4,Rac8,Qd3,Red8,Bxc6,Rxc6,Rac1,e5,Rxc6,Qxc6,Nxe5,Qc7,Qe3,Re8,f4,Nd5,Qb3,Qd6,g3,Nf6,Qxf7+,Kh8,Nf3,Rf8,Qb3,Ne4,Qc2,Nf6,Re1,Nh5,Ng5,Qxd4+,Kg2,Qd5+,Kh3,g6,Qc3+,Kg8,Qc7,Qf5+,g4', 'Nxf4+,Qxf4,Qxf4', 'https://lichess.org/training/oN1js');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ON1w9', 'Rapid', 'Blajburg70', 1764, 'burken333', 1764, 'e4,c6,d4,d5,e5,c5,Nf3,Nc6,Nc3,Bg4,Be2,e6,Bg5,Qb6,O-O,Bxf3,Bxf3,cxd4,Na4,Qc7,Bf4,Nxe5,Qxd4,Nxf3+,gxf3,Qxc2,Rac1,Qg6+,Kh1,Ne7,Nc5,Nc6,Qa4,Bxc5,Rxc5,O-O,Rg1,Qf5,Rcc1,Rfc8,Rg2,d4,Rcg1,Qxf4,Rxg7+,Kf8,Qa3+,Ke8,Rxh7,Kd7,Rgg7,Rf8,Qb3,b6,Qb5,Qxf3+,Kg1,Qd1+,Kg2,Rg8,Qa6,Kc7,Qc4,Qe1,a3,Qe4+,Kf1,Rxg7,Rxg7,Qh1+,Ke2,Qe4+,Kd2,Rd8,Rxf7+,Kc8', 'Qa6+,Kb8,Qb7#', 'https://lichess.org/training/ON1w9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('On3Np', 'Rapid', 'yalamanchi', 1662, 'zemlak', 1642, 'Nf3,c5,d4,h6,dxc5,Nc6,e4,e5,Be3,Nf6,Nc3,Ng4,Bb5,Nxe3,fxe3,Bxc5,Qd5,Bd6,Bc4,O-O,Qxd6,Qb6,Ke2', 'Nd4+,exd4,Qxd6', 'https://lichess.org/training/On3Np');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('On7o5', 'Rapid', 'Orang_batak', 1866, 'adam130565', 1711, 'c4,e6,e3,d5,cxd5,exd5,Nf3,Nf6,Be2,Be7,d4,O-O,O-O,c6,Nc3,Re8,a3,Nbd7,b4,a6,Bb2,Nf8,Qc2,g6,Na4,Bf5,Bd3,Bxd3,Qxd3,Ne4,Nc5,Nxc5,dxc5,Bf6,Nd4,Ne6,h3,Nxd4,Bxd4,Bxd4,Qxd4,Re4,Qd3,Qe7,Rfb1,Re8,a4,Rc4,Ra2,Qh4,Rab2,Ree4,b5,Rxc5,bxa6,bxa6,Qxa6,Rxa4,Qc8+,Kg7,Rb8,Rc2,Qf8+,Kf6,Qd8+,Ke6,Qxh4,Rxh4,R1b7,f6,Re8+,Kd6,Rf7,f5,Ree7,Rc1+,Kh2,Ra4,Rxh7,Ra2,Rd7+,Kc5,Rhg7,Rxf2,Rxg6,Rcc2,Rdd6,Kb5,Rde6,c5,Re5,Kc4,Rg5,d4,exd4,cxd4,Rgxf5,Rxg2+,Kh1,Rgd2,Re1,Rh2+,Kg1,Rxh3,Rf4,Kc3,Rd1,d3,Rf8,Rg3+,Kf1,Rh2,Rc8+,Kd4,Rd8+,Ke4,Re1+,Kf5,Rf8+,Kg4,Rg8+,Kh3', 'Rh8+,Kg4,Rxh2', 'https://lichess.org/training/On7o5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('On80o', 'Rapid', 'samirelshafie', 1736, 'akimenkosn', 1801, 'e4,e6,e5,d5,d4,c5,c3,Nc6,Nf3,Qb6,a4,cxd4,cxd4,Bb4+,Nc3,Nge7,Bb5,O-O,Bxc6,Nxc6,O-O,Qd8,h3,a6,Na2,Be7,Nc3,Bd7,b3,Rc8,Ba3,Bxa3,Rxa3,Nxe5,Nxe5,Rxc3,Nxd7,Qxd7,Ra1,Rfc8,Qg4,Rxb3,Rfb1,Rbc3,Re1,g6,Re3,R3c4,Kh2,Rxa4,Rxa4,Qxa4,Rxe6,Qd7', 'Rxg6+,hxg6,Qxd7', 'https://lichess.org/training/On80o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('on8Cw', 'Rapid', 'utkuisil1', 1773, 'The_Dark_Heretic', 1757, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,O-O,Nf6,d3,Be7,Re1,O-O,Nbd2,h6,Nf1,a6,Ba4,b5,Bb3,Be6,Bxe6,fxe6,Be3,d5,exd5,exd5,Nh4,Qe8,Ng3,Nh7,Qg4,Bxh4,Qxh4,d4,Bd2,Ne7,Rxe5,Qf7,Qxd4', 'Nc6,Qc5,Nxe5', 'https://lichess.org/training/on8Cw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNaGa', 'Blitz', 'llanes', 1591, 'teejama2', 1521, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Ng5,d5,exd5,Na5,Bb5+,Bd7,Qe2,Be7,Bxd7+,Qxd7,O-O,Qxd5,Nc3,Qd8,Qxe5,c6,Re1,Nd7,Qxg7,Rf8,Nxh7,Rc8,Qxf8+,Nxf8,d3,Nxh7,Ne4,Nf6', 'Nxf6+,Kf8,Bh6#', 'https://lichess.org/training/oNaGa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('onb6j', 'Blitz', 'owl2009', 1965, 'kiplel', 2008, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,e3,dxc4,Bxc4,Bb4,O-O,O-O,e4,Bxc3,bxc3,Nxe4,Bd3,Nxc3,Qc2,Nd5,Bxh7+,Kh8,Be4,Kg8,Ng5,Nf6,Bxc6,bxc6,Qxc6,Qxd4,Qxa8,Qxa1,Qxa7,Qc3,Be3,Rd8,Rc1', 'Qxc1+,Bxc1,Rd1#', 'https://lichess.org/training/onb6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OnbJt', 'Rapid', 'galatasaray_1905', 1657, 'engendrio', 1705, 'd4,d5,Nf3,Nf6,b3,e6,Bb2,Bb4+,c3,Bd6,Nbd2,O-O,e3,Nbd7,Bd3,c5,O-O,cxd4,cxd4,a5,Rc1,b6,Qe2,a4,Rc2,a3,Ba1,Rb8,Rfc1,Bb4,Bc3,Bd6,Ba1,Ng4,h3,Ngf6,Rc6,Be7,Ba6,Bxa6,Qxa6,Ra8,Qb5,Ne4,Nxe4,dxe4,Nd2,Bh4,Nxe4,f5,Nd2,f4,Rxe6,fxe3,fxe3,Bf2+,Kh1,Rc8,Rxc8,Qxc8,Rc6,Qe8,Qd5+,Kh8,e4,Bg3,Rc1,Rf2,Nf3,Nf6,Qf5,Qg6,Rc8+,Ng8,Qf8', 'Rf1+,Ng1,Rxf8', 'https://lichess.org/training/OnbJt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OncgL', 'Rapid', 'HillaryMbajjo', 1571, 'Lacam273', 1569, 'e3,d5,Nf3,Bf5,c3,c5,Qa4+,Nc6,Bb5,Rc8,Bxc6+,Rxc6,Qxa7,Nf6,Qxb7,Rb6,Qa7,e6,Qa4+,Nd7,Ne5,Rb7,Nxd7,Rxd7,d4,c4,Na3,Bd6,Nb5,O-O,Nxd6,Rxd6,b3,Bd3,Ba3,Rb6,Bxf8,Qxf8,bxc4,Bxc4,Qa5,Qb8,Qa4,h6,e4,Rb1+,Rxb1,Qxb1+,Kd2,Qd3+,Kc1,Qxc3+,Qc2,Qa1+,Qb1,Qc3+,Qc2,Qxd4,exd5,Bxd5,Rd1,Qf4+,Kb1,Qxh2,Qc8+,Kh7,Qc2+,g6,g3,h5,Ka1,Kg7,Qb2+,Kh6,a4,h4,gxh4,Qxh4,a5', 'Qa4+,Kb1,Qxd1+,Qc1+,Qxc1+', 'https://lichess.org/training/OncgL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OncOP', 'Rapid', 'El_Rossador', 1982, 'mtnakgul', 1840, 'd4,d5,c4,e6,Nf3,c6,Nc3,f5,Bf4,Bd6,Ne5,Nf6,e3,O-O,h3,Ne4,cxd5,exd5,Qh5,Bb4,Rc1,Qa5,Bd3,Nxc3,bxc3,Bxc3+,Kf1,Qa3,Rc2,Bb4,g4,Bd6,Bxf5,Bxf5,gxf5,Bxe5,Bxe5,Qd3+,Re2,Rxf5', 'Qe8+,Rf8,Qe6+', 'https://lichess.org/training/OncOP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oncyw', 'Classical', 'alfredrez', 1607, 'Daenerys_Targaryen', 1707, 'd4,Nf6,c4,e6,a3,b6,Nc3,Bb7,Bg5,h6,Bh4,c5,d5,d6,e4,Be7,Be2,O-O,h3,Re8,Nf3,Bf8,O-O,exd5,cxd5,g5,Bg3,Nxe4,Nxe4,Rxe4,Re1,Qe8,Bd3,Rxe1+,Nxe1,Nd7,Bb5,a6,Bc6,Bxc6,dxc6,Ne5,Qd5,Qxc6,Rd1,Rd8', 'Bxe5,Qxd5,Rxd5', 'https://lichess.org/training/oncyw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('onD8h', 'Rapid', 'Tvjohn2', 1611, 'OldMillenial', 1739, 'e4,d5,e5,d4,Nf3,c5,Bc4,Nc6,O-O,e6,c3,Nh6,d3,Be7,Bxh6,gxh6,Nbd2,Qb6,Bb3,Bd7,Nc4,Qc7,Ba4,a6,Bxc6,Bxc6,cxd4,b5,Nd6+,Bxd6,exd6,Qxd6,dxc5,Qxc5,d4,Qd5,Rc1,Rg8,Rc5', 'Qxf3,Qxf3,Bxf3', 'https://lichess.org/training/onD8h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ondpm', 'Rapid', 'ChessIteration', 2311, 'Dukwe', 2047, 'e4,c5,c3,d6,d4,Nf6,Qc2,cxd4,cxd4,Nc6,Nf3,d5,e5,Ne4,Nc3,Bg4,Nxe4,dxe4,Qxe4,Bxf3,Qxf3,e6,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/Ondpm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OnDtI', 'Classical', 'Czeslaw62', 1859, 'can407', 1921, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Bd6,Bd3,dxc4,Bxc4,O-O,Bd3,c5,O-O,cxd4,Nxd4,a6,Ne4,Nxe4,Bxe4,Qh4,Nf3,Bxh2+,Nxh2,Qxe4,f3,Qg6,Ng4,Nc6,a3,e5,Nf2,f5,b4,f4,e4,Rf6,Bb2,Qg5,Qb3+,Be6,Qc3,Rg6,Ng4,h5,Rf2,hxg4,fxg4,Qxg4,a4,Qg3,Qc5,Qg5,b5,axb5,Qxb5,Rb8,a5,Bh3,Qe2,Bxg2,Rxg2,f3', 'Qc4+,Kh7,Rxg5', 'https://lichess.org/training/OnDtI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OnE2t', 'Classical', 'andradegoh5', 1839, 'max65655051', 1789, 'c4,d5,d4,dxc4,Nc3,Nf6,e4,c5,d5,e6,Bxc4,Qb6,Nf3,Bd6,e5,exd5,exf6,dxc4,fxg7,Rg8,O-O,Rxg7,Re1+,Kf8,Bh6,Bg4,Bxg7+,Kxg7,h3,Bh5,g4,Bg6,Nh4,Nd7,Nxg6,hxg6,Nd5,Qxb2,Ne3,Qe5', 'Nf5+,gxf5,Rxe5', 'https://lichess.org/training/OnE2t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OnFNb', 'Blitz', 'look1972', 1855, 'Asao123', 1897, 'd4,d5,Bf4,c5,c3,Nf6,e3,e6,Nf3,Bd6,Nbd2,O-O,Bd3,Nc6,O-O,Bxf4,exf4,a6,Ne5,c4,Bb1,Ne7,f3,b5,Qc2,g6,Ng4,Nf5,Ne5,Ne3,Qc1,Nxf1,Nxf1,Nh5,g3,Bb7,Ne3,Ng7,Qf1,Rc8,Qh3,Qe7,g4,b4,g5,f6,N5g4,fxg5,Ne5,Rxf4,Nxg6,hxg6,Bxg6,Ne8,Ng4,Kg7', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/OnFNb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNfYT', 'Blitz', 'NM jpiceman', 2266, 'Tactical_Shot', 2243, 'd4,Nf6,c4,d6,Nf3,g6,Nc3,Bg7,e4,O-O,Be2,c6,O-O,Nbd7,Re1,e5,Bf1,Qc7,h3,Re8,Be3,a6,dxe5,dxe5,c5,Nf8,Nd2,Be6,Nc4,Rad8,Qc2,Re7,Red1,Red7,Rxd7,Rxd7,b4,Rd4,Bxd4,exd4,Na4,N6d7,Rd1,Qf4,Nab6,Ne5,Qd2,Qh4,Nxe5,Bxe5,Nc4,Bxc4,Bxc4,Ne6,Bxe6,fxe6,Rb1,Bc7,Rb3,Qxe4,Rf3', 'Qb1+,Qe1,Qxe1#', 'https://lichess.org/training/oNfYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ONGAe', 'Blitz', 'moi34', 1517, 'AzeriChessPlayer1211', 1535, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bb5,Nge7,d3,O-O,Be3,Bxe3,fxe3,a6,Bxc6,Nxc6,Qe2,f6,Nd5,Ne7,Nh4,Nxd5,exd5,d6,Qf3,Bd7,O-O-O,c5,Qg3,g5,Nf3,b5,Nd2,b4,b3,a5,a4,bxa3,Kb1,a4,Ka2,axb3+,cxb3,Qa5,Nc4,Qc3,h4,Bb5,hxg5,Bxc4', 'gxf6+,Kf7,Qg7+,Ke8,Qe7#', 'https://lichess.org/training/ONGAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNGwp', 'Blitz', 'Bermertebe', 2205, 'Babich_Roman', 2231, 'd4,Nf6,Bf4,c5,e3,cxd4,exd4,d5,c3,Nc6,Nd2,Qb6,Qb3,Qxb3,axb3,Bd7,Ngf3,e6,h3,Be7,b4,O-O,b5,Nd8,Ne5,b6,Bd3,Nb7,O-O,Be8,Ra3,Nd6,Rfa1,Nxb5,Bxb5,Bxa3,Bxe8,Bxb2,Ra2,Rfxe8,Rxb2,Rec8,Rb3,h6,Kf1,a5,Ke2,a4,Ra3,b5,Nd3,Nd7,Bd6,Rc6,Bb4,Nb6,Nc5,f6,Ra1,Kf7,Nb1,Rac8,Na3,e5,Nxb5,exd4,cxd4,Re8+,Kd3,Nc4,Nxa4,Ra8,Ra2', 'Rxa4,Rxa4,Nb2+,Kd2,Nxa4', 'https://lichess.org/training/oNGwp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('onjuA', 'Rapid', 'Typerys', 1701, 'Schmidt97', 1663, 'e4,b6,g3,Bb7,Bg2,e5,Nc3,d6,d3,Nf6,h3,c6,f4,Be7,f5,d5,g4,dxe4,Nxe4,c5,Bg5,Nxe4,Bxe7,Qxe7,Bxe4,Bxe4,dxe4,O-O,Qf3,Na6,O-O-O,Rad8,Ne2,Nb4,Kb1,Qb7,a3,Nc6,f6,Rxd1+,Rxd1,Rd8,Rxd8+,Nxd8,fxg7,Kxg7,g5,Qc6,Ng3,Kf8,Qf5,Qd6,c3', 'Qd3+,Ka1,Qxg3', 'https://lichess.org/training/onjuA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ONjz2', 'Rapid', 'Apiberani', 1825, 'paulatreides', 1780, 'e4,e5,Nc3,Nc6,d3,Nf6,Bg5,Be7,Be2,h6,Bh4,O-O,Qd2,d6,O-O-O,a6,Bxf6,Bxf6,h4,Bxh4,g3,Bg5,f4,exf4,gxf4,Bf6,Nf3,Bg4,Rdg1,Bxf3,Bxf3,Kh7,Nd5,Nd4,Bg4,c6,Ne3,Ne6,Nf5,Nxf4,Qxf4', 'Bg5,Qxg5,Qxg5+', 'https://lichess.org/training/ONjz2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OnKa7', 'Rapid', 'aliabdo59', 1843, 'umit13', 1825, 'e4,c5,e5,Nc6,Nf3,e6,d3,d6,Bf4,dxe5,Bxe5,Nxe5,Nxe5,Qf6,Nf3,Qxb2,Nbd2,Nf6,Be2,Bd6,h3,O-O,O-O,Nd5', 'Nc4,Qf6,Nxd6', 'https://lichess.org/training/OnKa7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('onKk9', 'Classical', 'koltski', 1823, 'NEEEEEEEEEEEK', 1888, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Nf3,Nc6,Bb5,Bd7,O-O,Nf6,Bg5,e6,Qe2,e5,Nd5,Be7,Nxe7,Nxe7,Bxd7+,Nxd7,Rfd1,Qb6,Bxe7,Kxe7,Nh4,g6,Rd2,Rac8,Rad1,Rc6,Nf3,Rd8,Qd3,Nf6,Rc2,Ng4,h3,Rxc2,Qxc2,Nf6,b3,Nh5,Qc4,h6,Rd5,Nf4,Rb5,Qa6,a4,b6,Kh2,Rc8', 'Rxe5+,dxe5,Qxa6', 'https://lichess.org/training/onKk9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNkmL', 'Rapid', 'dom76', 1718, 'lluisPamies', 1890, 'd4,Nf6,c4,e5,d5,Bb4+,Bd2,Bxd2+,Qxd2,d6,Nc3,O-O,e4,a5,a3,Nbd7,g3,Nc5,Qc2,Bd7,Bg2,Ng4,h3,Nh6,Nge2,g6,O-O,f5,f4,fxe4,Nxe4,Nxe4,Qxe4,exf4,Rxf4,Qg5,Qf3,Rxf4,Qxf4,Qxf4,Nxf4,Re8,Kf1,Nf5,Kf2,Kf7,g4,Nh4,Bf1,g5,Ng2,Ng6,Re1,Rxe1,Kxe1,Kf6,Bd3,Ne5,Be2,h5,gxh5,Bxh3,Ne3,Bd7,b3,g4,Kf2,Kg5,Kg3,Kxh5,Ng2,Kg5,Nf4,Nf7,Ne6+,Kh5,Nxc7,Nh6,Ne6,Nf5+,Kg2,Bxe6,dxe6,Kg5,b4,Kf6,c5,dxc5,bxc5,Kxe6,Bxg4,Ke5,Bxf5', 'Kxf5,Kf3,Ke5,Ke3,Kd5', 'https://lichess.org/training/oNkmL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNllY', 'Blitz', 'Dhawal-007', 1835, 'abobakr000', 1796, 'd4,d5,c4,Nf6,Nf3,e6,cxd5,exd5,Nc3,Bf5,Bg5,Be7,Qb3,h6,Bxf6,Bxf6,Qxb7,Nd7,Qxd5,Be6,Qe4,O-O,e3,c5,Qd3,cxd4,Nxd4,Nc5,Qd2,Qd6,Be2,Rad8,O-O,Rfe8,Ncb5,Qb6,b4,Ne4,Qc2,Bxd4,Nxd4,Bd5,a3,Nf6,Bf3,Bxf3,Nxf3,a5,bxa5,Qxa5,Nd4,Nd5,Qc4,Qa7,Nc6,Qc7,Rfc1,Rd6,Qb5,Rc8,h3', 'Rxc6,Qxc6,Qxc6,Rxc6,Rxc6', 'https://lichess.org/training/oNllY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('onN0y', 'Blitz', 'nikitin23061980', 1876, 'Mat2200', 1891, 'e4,e6,d4,d6,Nf3,Nc6,Be3,Be7,c3,Nf6,Bd3,O-O,O-O,e5,d5,Nb8,b4,c6,c4,cxd5,cxd5,b6,a3,Na6,Qa4,Nc7,Nbd2,Bd7,Qb3,Rb8,Rac1,a6,Rc2,b5,Rfc1,Nce8,h3,h6,Ba7,Rb7,Be3,a5,bxa5,Qxa5,Nb1,b4,Nfd2,Ba4,Qxb4,Rxb4,axb4,Qxb4,Ra2,Nh5,Rc4,Qb5,Raxa4,Nf4,Bxf4,exf4,Rab4,Qa5,Nb3,Qa2,N1d2,Bf6,Ra4,Qb2,Rc8,Bc3,Raa8,Bxd2,Nxd2,Qxd2,Bb5,f3,gxf3,Qg5+,Kf1,Qe7', 'Rxe8,Rxe8,Rxe8+,Qxe8,Bxe8', 'https://lichess.org/training/onN0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNNVe', 'Classical', 'Thomsen', 1661, 'JuanSnow', 1662, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,h6,Bc4,e6,O-O,Nd7,Re1,Bd6,Ne4,Bxe4,Rxe4,Ngf6,Re1,O-O,Bf1,c5,Be3,Ng4,dxc5,Nxe3,Rxe3,Bxc5,Re1,a6,c3,Nf6,Qb3,Ng4,Re2,Qc7,g3,Rad8,Qc2,f5,b4,Bd6,Rxe6,f4,Re4,fxg3,fxg3,Bxg3,Rxg4,Qb6+,Nd4,Bf2+,Kg2,Qf6,Qe2,Rde8,Qf3,Qb6,Rxg7+,Kxg7,Qg4+,Kh7,Bd3+,Kh8,Nf3,Rg8,h3,Rxg4+,hxg4,Be3,Rh1,Qc7,g5,Rg8', 'Rxh6+,Kg7,Rh7+,Kf8,Rxc7', 'https://lichess.org/training/oNNVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNo2H', 'Classical', 'talal70', 1687, 'desideriuss', 1682, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,Bg4,d3,h6,h3,Bh5,g4,Bg6,Bd2,Nf6,Qe2,Nd4,Nxd4,exd4,Nd5,Be7,h4,h5,g5,Ng4,f3,Ne5,Bb3,c6,Nf4,Qd7,Ng2,O-O-O,O-O-O,Kb8,f4,Ng4,f5,Bh7,Bxf7,Bg8,Bxg8,Rdxg8,Nf4,d5,Nxh5,g6,Nf4,gxf5,exf5,Qxf5,Qxe7,Nf2,Ne6,Nxd1,Rxd1,Rxh4,Qd6+,Ka8,Nc7+,Kb8,Nxd5+,Ka8,Ne7,Qf8,Qe5,Qe8,Qg3,Rgh8,Bb4,Rh1,c3,Rxd1+,Kxd1,Rh1+,Kc2,dxc3,bxc3,Qh5,g6,Qd1+,Kb2,Qb1+,Ka3,Qc1+,Kb3,Qd1+,Kc4,Rg1,Qf4', 'Rg4,Qxg4,Qxg4+', 'https://lichess.org/training/oNo2H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNODt', 'Rapid', 'michel-strasser', 1515, 'checkersforchess', 1524, 'e4,e5,d4,exd4,Nf3,Nc6,Nxd4,Bc5,Nxc6,bxc6,f3,d5,Nc3,Nf6,a4,O-O,Bg5,h6,Bxf6,Qxf6,exd5,cxd5,Qxd5,Bd4,O-O-O,Bxc3,bxc3,Qxc3,Bc4,Be6,Qd3,Qxd3,Bxd3,Rad8,g4,f5,gxf5,Bxf5,Bxf5,Rxd1+,Rxd1,Rxf5,Rd7,Rxf3,Rxc7,Rf1+,Kd2,Rf2+,Kc1,Rxh2,Rxa7,g5,Rb7,g4,Rb3,Rh3,a5', 'Rxb3,cxb3,g3,Kd2,g2', 'https://lichess.org/training/oNODt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ONp1h', 'Rapid', 'Mehran75', 1699, 'Hargo04', 1701, 'e4,e5,Nf3,f5,d3,Nf6,Bg5,fxe4,Bxf6,Qxf6,dxe4,Bc5,h3,Nc6,a3,O-O', 'Qd5+,Kh8,Qxc5', 'https://lichess.org/training/ONp1h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OnP2X', 'Blitz', 'ravelo', 1918, 'Killer_sta_Blitzakia', 1689, 'e4,e5,Bc4,Nc6,d3,Be7,f4,exf4,Bxf4,Nf6,Nf3,d6,Nc3,O-O,O-O,Na5,Bb3,Nxb3,axb3,c6,Qe2,Be6,d4,Re8,Rfd1,Bf8,e5,Nd5,Nxd5,Bxd5,c4,Bxf3,Qxf3,Qc7,exd6,Bxd6,Bxd6,Qxd6,Rf1,Re7,Rae1,Qxd4+,Kh1,Rae8', 'Qxf7+,Rxf7,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/OnP2X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ONPVp', 'Classical', 'xZaphzzz', 1857, 'jowe2006', 1795, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,Nf3,Bd6,g3,Ne7,Bg2,O-O,O-O,Bg4,h3,Bf5,Ne2,Qc8,g4,Bg6,Ng3,Nd7,Qe2,f5', 'Qe6+,Bf7,Qxd6', 'https://lichess.org/training/ONPVp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNpW7', 'Blitz', 'ARFAFAN', 1513, 'AteSten', 1660, 'e4,c5,Bc4,e6,d3,Nc6,Be3,d5,exd5,exd5,Bb3,Nf6,Qe2,Be7,Bxc5,O-O,Bxe7,Nxe7,Nf3,Re8,O-O,Nf5,Qd2,Be6,Na3,Qc7,Rae1,a6,d4,Ne4,Qd1,b5,c3,h6,g4,Nfd6,Ne5,Ng5,h4,Nh3+,Kg2,Nf4+,Kg3,Ng6,Nxg6,fxg6,Rxe6,Ne4+,Kg2,Rf8,Bxd5', 'Rxf2+,Rxf2,Qg3+,Kf1,Qxf2#', 'https://lichess.org/training/oNpW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('onQYW', 'Classical', 'Bubo91', 1879, 'maxboss', 1755, 'd4,g6,Nf3,d5,c4,Bg7,Nc3,dxc4,e4,Bg4,e5,Nh6,h3,Bxf3,Qxf3,Nf5,Be3,Nxe3,fxe3,e6,Qxb7,Nd7,O-O-O,O-O,Bxc4,Qg5,Qf3,Rab8,Bd3,c5,h4,Qe7,Nb5,cxd4,exd4,Bh6+,Kb1,a6,Nd6,a5,a4,Nb6,Bb5,Nd5,Ne4,Nc7,Nf6+,Kh8,Bc6,Nd5,Bxd5,exd5,Nxd5,Qb7,Qf6+', 'Bg7,Qf2,Qxd5', 'https://lichess.org/training/onQYW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNr3O', 'Blitz', 'Ingwar1969', 1594, 'baobab606', 1588, 'e4,c6,d4,d5,c4,dxc4,Nc3,b5,b3,Be6,Nf3,Nf6,Bf4,Na6,Ne5,Nb4,a3,Nd3+,Bxd3,cxd3,Nxc6,Qc8,d5,Nxd5,exd5,Bxd5,Nxd5,Qxc6,Nc7+,Kd8,Nxa8,Qxg2,Qxd3+,Kc8,Qc3+,Kb7,Qc7+,Ka6,O-O-O,e5,Qxe5,Bxa3+,Kb1,Rxa8,Qa1,b4,Rd6+,Kb7,Rd7+,Kc8,Rhd1,Qe4+,Ka2', 'Qc2+,Qb2,Qxb2#', 'https://lichess.org/training/oNr3O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ONSU2', 'Blitz', 'jeffesparov', 1762, 'chrcm23', 1816, 'e4,e6,d4,c6,c4,d5,cxd5,cxd5,e5,h6,Nf3,Nc6,Bd2,Bd7,Bc3,Nge7,Nbd2,Nf5,Bd3,Bb4,Bxf5,exf5,Nb3,b6,O-O,O-O,Nbd2,Be6,h3,Bxc3,bxc3,Qd7,Re1,g5,Nh2,Kg7,Qh5,f6,Re3,Bf7,Qf3,fxe5,dxe5,Be6,Rae1,Kg6,Nb3,a5,Nd4,Nxd4,cxd4,h5,Qd1,Rac8,Rb3,Rb8,Qd2,Rfc8,Reb1,Qc6,Nf3,f4,g3,Qc2,gxf4,Qxd2,Nxd2,Bxh3,Rxb6+,Kf5,f3,Rxb6,Rxb6,gxf4,Rf6+,Kg5,Nb3,a4,Nc5,Rb8,Kh2,Bf1', 'Ne6+,Kh4,Rxf4#', 'https://lichess.org/training/ONSU2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('onUTb', 'Classical', 'Skyker', 1601, '11sushikid', 1638, 'e4,e6,d4,d5,e5,c5,c3,Nc6,f4,f6,Nf3,Be7,Bb5,cxd4,cxd4,Qa5+,Nc3,Bd7,Bxc6,Bxc6,a3,Rc8,Bd2,Qb6,b4,Nh6,O-O,Nf5,Ne2,Bb5,Rc1,O-O,Re1,Bxe2,Rxe2,Nxd4,Nxd4,Qxd4+,Be3,Rxc1,Qxc1,Qd3,Rc2,b6,Rc3,Qa6,Rc6,fxe5,Rxe6,d4,Rxe7,dxe3,Qxe3,exf4,Qe6+,Kh8,Qf7,Rg8,Rxa7,Qd3,Qxf4,Qd1+,Kf2,Qc2+,Kg3,Qg6+,Kh3,Qd3+,g3,Qg6,g4,Qd3+,Kh4', 'g5+,Qxg5,Rxg5', 'https://lichess.org/training/onUTb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNVxW', 'Rapid', 'megaman7de', 1842, 'kmukhtar', 1843, 'd4,f5,c4,Nf6,Bg5,e6,Nf3,Be7,e3,O-O,Bd3,c6,a3,d5,Qc2,Ne4,Bxe7,Qxe7,Bxe4,fxe4,Ne5,Nd7,Nxd7,Bxd7,Nd2,Rf6,f3,Raf8,O-O-O,e5,fxe4,exd4,exd5,dxe3,Ne4,Rf4,dxc6,Bxc6,Nc3,Rf2,Qb3,Rxg2,Rhg1,Rxh2,Nb5,Rff2,Nd4,Rd2,Rxd2,Rxd2,Nxc6,bxc6,Re1,Qh4,Qxe3,Rd8', 'Qe6+,Kf8,Rf1+', 'https://lichess.org/training/oNVxW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ONWG3', 'Blitz', 'ivanovk12', 2098, 'Valiant2', 2362, 'd4,c5,Bf4,cxd4,Qxd4,Nc6,Qd1,Qb6,b3,e5,Bd2,Bc5,e3,Nf6,Nf3,O-O,Be2,e4,Ng1,d5,c3,Be6,b4,Bd6,Nh3,Bxh3,gxh3,a5,b5,Ne5,a4,Rac8,Na3,Rfe8,Nc2,Nc4,Bxc4,Rxc4,Nd4,Nd7,Rg1,g6,h4,Ne5,h5,Bc5,hxg6,hxg6,h4,Bxd4,exd4,Nf3+,Kf1,Qe6,Rg3,Qf5,Qe2,Kg7,Rxf3,exf3,Qxe8', 'Qh3+,Ke1,Qh1#', 'https://lichess.org/training/ONWG3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNXN4', 'Blitz', 'Stef2Monti', 1771, 'Kongo-no1', 1842, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,f6,Nf3,Nc6,Bc4,e6,Bf4,a6,O-O,Bc5,e5,b5,Ne4,Bxf2+,Rxf2,bxc4,Nd6+,Ke7,exf6+,Nxf6,Bg5,Rf8,Re2,Qb6+,Kh1,Na5,Nd4,Kxd6,Nxe6+,Kc6,Nxf8,Kc7,Bxf6,Qxf6,Nxh7,Qc6,Rc1,Bb7,b4,Rh8,bxa5,Kb8,Ng5,Qh6,Nh3,Qxh3,Qg1,Qd3,Rb2,Rh6,Rxb7+,Kxb7,Rb1+,Kc8', 'Qc5+,Rc6,Qf8+,Kc7,Qb8#', 'https://lichess.org/training/oNXN4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oNyIf', 'Rapid', 'Nauders', 1643, 'HubertSme', 1668, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,Bb4,Bd3,Bxc3+,bxc3,e5,Nxc6,bxc6,O-O,O-O,Bc5,d6,Be3,a5,Qf3,Bg4,Qg3,Qd7,h3,Bh5,Bh6,Bg6,Bg5,Nh5,Qf3,h6,Bh4,Nf4,Bc4,Bh5,Qg3,d5,exd5,cxd5,Rad1,Qe6,Bd3,Bxd1,Rxd1,Nxd3,cxd3,Rab8,Re1,f6,Qe3,Rb2,a4,Rfb8,f4,e4,dxe4,Qxe4,Qa7,Qg6,Bf2,Rxf2', 'Qxb8+,Kh7,Kxf2', 'https://lichess.org/training/oNyIf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oO1n7', 'Rapid', 'ssssssssss29012901', 1925, 'yasar11kocas', 1900, 'd4,e5,dxe5,f6,e4,h5,exf6,Nxf6,e5,Ne4,Bd3,d5,f3,Qh4+,g3,Nxg3,Bg6+,Kd8,Qxd5+,Nd7,e6,Nxh1+,Kd1,Nf2+,Ke2,Nh1', 'Bg5+,Qxg5,Qxg5+', 'https://lichess.org/training/oO1n7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oO1Xj', 'Blitz', 'cdrcls', 1651, 'MustafaBalkhi', 1637, 'c4,c5,g3,e6,Bg2,Nc6,Nc3,Nf6,Nf3,d5,cxd5,Nxd5,d4,cxd4,Nxd4,Nxd4,Qxd4,Nxc3,Qxd8+,Kxd8,bxc3,Be7,O-O,Ke8,a4,f5,Ba3,Bf6,Rac1,Kf7,c4,Rb8,Rfd1,b6,c5,bxc5,Rxc5,Be7,Rc3,Bxa3,Rxa3,Bb7,Bxb7,Rxb7,Rad3,g5,Rd7+,Rxd7,Rxd7+,Kf6,Rxa7,Rb8,Rxh7,Ra8,Rh6+,Ke5,f4+,gxf4,gxf4+,Kxf4,Rxe6,Rxa4,Kg2,Ra2,Rg6,Ke5,h4,Rxe2+,Kg3,Re1,h5,Rh1,h6', 'Rg1+,Kf2,Rxg6,h7,Rh6,h8=R,Rxh8', 'https://lichess.org/training/oO1Xj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OO2EC', 'Classical', 'cyberrx', 1612, 'Braeden_Hart', 1618, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nf6,Nxc3,Bb4,Ne2,Nxe4,O-O,Nxc3,Nxc3,Bxc3,bxc3,Nc6,Qd5,O-O,Ba3,d6,Qh5,Ne5,Bb3,g6,Qh6,Ng4,Qf4,Bf5,Bb2,Re8,c4,Re4,Qf3,Qh4,h3,Rae8,hxg4,Bxg4,Qc3,R8e5,f3,Bxf3,Qxf3,Rf5,Qc3,Rfe5,Bc2,Rg4,Rf2,f6,Raf1,Rxg2+,Rxg2,Rh5,Qe3,Qh1+,Kf2,Qh4+,Ke2,Qxc4+,Bd3,Qxa2,Qd2,Re5+,Kd1,Qb1+,Qc1', 'Qxd3+,Qd2,Qxf1+', 'https://lichess.org/training/OO2EC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oo2Uu', 'Rapid', 'hefny', 1912, 'Waruga', 2040, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,c3,d4,d3,b6,Be2,Bb7,O-O,Nge7,c4,Nf5,Na3,a6,Qe1,Be7,Bd1,h6,Ba4,Nh4,Nxh4,Bxh4,Qe4,Qc7,f5,Be7,fxe6,fxe6,Qg6+,Kd7,Qxg7,Rag8,Qf7,Kc8,Qxe6+,Kb8,Bf4,Nd8,Qh3,Ne6,g3,Nxf4,Rxf4,Qxe5,Re4,Bxe4,dxe4,Qxe4,Qd7,Qb7,Qe6,Bg5,Bc6,Be3+,Kg2,Re8,Qd6+,Qc7,Qxc7+,Kxc7,Bxe8,Rxe8,Nc2,Kd6,Re1,Re5,Kf3,Bg5,Rd1,b5,cxb5,axb5,b3,Bf6,a4,bxa4,bxa4,Rd5,a5,Kc6,Rb1,d3,Ne3,Rd6,a6,Rd7,Ke4,Bg5,Nc4', 'Rd4+,Kf3,Rxc4', 'https://lichess.org/training/oo2Uu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OO390', 'Classical', 'luisomi', 1890, 'chessfiend007', 1823, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Nbd7,a3,dxc4,Bxc4,b5,Bd3,a6,Bd2,Be7,Rc1,c5,Bb1,c4,e4,O-O,O-O,Bb7,Re1,Rc8,h3,Nb6,Bf4,b4,axb4,Bxb4,Qc2,g6,Bg5,Be7,Rcd1,Nfd7,Bh6,Re8,d5,exd5,exd5,Nf6,Re5,Bd6,Rxe8+,Qxe8,Re1,Qd7,Qd1,Nbxd5,Nxd5,Nxd5,Qd4,f6,Be4,Bc5,Qd2,Bb4', 'Bxd5+,Bxd5,Qxb4', 'https://lichess.org/training/OO390');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oo43d', 'Rapid', 'Boardstuff', 1907, 'HassanBastian', 1899, 'e4,c5,Nc3,Nc6,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Bc4,d6,Qf3,Nf6,e5,dxe5,Ne4,Bb7,Bg5,O-O,O-O,c5,Nxf6+,exf6,Qxb7,fxg5,Rad1,Qb6,Qe7,h6,Rd7,Qf6,Qxc5,a6,Qc7,Rac8,Bxf7+,Kh8,Qb7,Rb8,Qc7,Rxb2,Bb3', 'Qxf2+,Rxf2,Rb1+,Rd1,Rxd1+,Rf1,Rdxf1#', 'https://lichess.org/training/Oo43d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OO75J', 'Rapid', 'robertpaulchampagne', 1712, 'Rulshouski', 1710, 'e4,e5,Bc4,Bc5,Nf3,d6,d4,exd4,O-O,Nf6,Re1,O-O,Bg5,h6,Bh4,g5,Bg3,Bg4,h3,Bh5,Qd3,Nc6,e5,dxe5,Nxe5,Nb4,Qf5,Kg7,a3,Bg6', 'Nxg6,fxg6,Qxc5', 'https://lichess.org/training/OO75J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OO7x3', 'Rapid', 'protey110779', 1724, 'jomanug', 1670, 'e4,c5,Bc4,Nc6,c3,e6,d3,d5,exd5,exd5,Bb5,a6,Bxc6+,bxc6,Be3,d4,cxd4,cxd4,Bd2,c5,Ne2,Nf6,O-O,Bd6,Re1,O-O,a3,Ng4,g3,Qf6,Rf1,Bb7,Nf4,Qh6,Qxg4,f5,Qh3,Qxh3,Nxh3,Rae8,Bf4,Be7,Nd2,Rf6,Rae1,Rf7,Nc4,Rd8,Bc7,Rd7,Ne5,Rxc7,Nxf7,Kxf7,Ng5+,Bxg5,f4,Bf6,Rf2,Bd5,Rfe2,Kg6,h4,h5,Re8,c4,dxc4,Bxc4,Rb8,d3,Rb4,Bxb2,Rxb2,Rd7,Rb4', 'd2,Rd1,Be2', 'https://lichess.org/training/OO7x3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oO9Xl', 'Rapid', 'whis_sama', 1910, 'JoelsonSilva', 1821, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,e5,Qd5,Nf6,Qb5+,Nc6,Nc3,Bd7,Qb3,Na5,Qb4,d5,Nxd5,Bxb4+,Nxb4,Nxe4,Bd3,Nc5,O-O,Nxd3,cxd3,O-O,Nxe5,Bb5,Bd2,Nc6,Nbxc6,bxc6,Rfd1,f6,Nf3,Bxd3,Bb4,Re8,Ne1,a5,Bc3,Qe7,Nxd3,Rad8,h3,c5,Bxa5,Rd7,Be1,c4,Bb4,Qe2,Re1,Qh5,Nf4,Rxe1+,Rxe1,Qb5', 'Re8+,Kf7,Rf8#', 'https://lichess.org/training/oO9Xl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OObhY', 'Rapid', 'Godneon', 1777, 'gotmike', 1769, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Nbd7,e3,c6,Qf3,Be7,cxd5,exd5,Bd3,O-O,Qg3,Re8,Qh4,g6,Nf3,Nh5,g4,Ng7,Rg1,Bxg5,Nxg5,Nf6,f4,Ne6,Nxe6,Rxe6,Kd2', 'Ne4+,Nxe4,Qxh4', 'https://lichess.org/training/OObhY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OoC6O', 'Rapid', 'Kfiend22', 1728, 'baba2000', 1818, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,O-O,O-O,d4,exd4,cxd4,d5,e5,Ne4,Bd3,Bg4,Nbd2,Nb4,Nxe4,Nxd3,Qxd3,Bxf3,Qxf3,dxe4,Qxe4,c6,Rd1,Qd5,Qg4,Qe6,Qg3,Rad8,Be3,Rd5,a4,Rfd8,a5,c5,Bh6,Qxh6,Qa3,b6,axb6,axb6,Qa7,Qh4,Ra4,Rxe5,g3,Qg4,Rda1,Red5,Qxe7,Qf3', 'Ra8,h6,Rxd8+,Rxd8,Qxd8+', 'https://lichess.org/training/OoC6O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oocR6', 'Rapid', 'stabbedintheface', 2006, 'anatolii50', 2011, 'e4,c5,Nc3,d6,g3,Nc6,d3,e6,Nh3,Be7,Bg2,a6,O-O,b5,f4,b4,Ne2,Bb7,g4,Nf6,c3,Nxg4,cxb4,cxb4,f5,O-O,Nef4,Qb6+,Kh1,Ne3,Bxe3,Qxe3,fxe6,f6,Nd5,Qd4,Rc1,Rae8,e5,Nxe5,Nxe7+,Rxe7,Bxb7,Rxb7,Nf4,Re7,Qe1,Ng6,Rc4,Qb6,Nd5,Qb7,Qe4,Ne5,Nxe7+,Qxe7,Rxb4,d5,Qh4,Qxe6,Re1,Qf5,Qf4', 'Qxf4,Rxf4,Nxd3,Rff1,Nxe1', 'https://lichess.org/training/oocR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oOCRN', 'Rapid', 'hriata', 1970, 'guigas', 1890, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,d6,Nf3,e5,d3,O-O,Nd2,Nc6,Nde4,Ne8,O-O,f5,Nd2,f4,Nd5,g5,Ne4,Nd4,b4,c6,Ndc3,d5,cxd5,cxd5,Nc5,b6,Bxd5+,Kh8,Bxa8,g4,Nb3,f3,exf3,Nxf3+,Bxf3,gxf3,Ne4,h6,h4,Qd7,Nbd2,Qg4,Nxf3,Rxf3,Nd2,Bb7,Kh2', 'Rxf2+,Rxf2,Qxd1', 'https://lichess.org/training/oOCRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OoDad', 'Blitz', 'SuperCastling', 1690, 'Ricci69', 1709, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Qe2,Qxe2+,Bxe2,Bd7,Nf3,Bc6,O-O,e6,Ne5,f6,Nxc6,Nxc6,Bb5,O-O-O,Bxc6,bxc6,d3,Rd4,Be3,Rh4,Bxa7,c5,Ne4,Kb7,Bxc5,Bxc5,Nxc5+,Kc6,Ne4,f5,g3,Rh6,Ng5,Nf6,Nf7,Rh5,Nxh8,Ng4,h4,f4,Nf7,fxg3,fxg3,Ne3,Rf3,Nxc2,Rc1,Rc5,Rxc2,Rxc2,Ng5,Kd5,Nxh7,Kd4,Ng5,e5,Rf7,Ke3,Rxg7,Kxd3,a4,e4,Nxe4,Kxe4,a5,Kf3,a6,Rxb2,Rxc7,Ra2,a7,Kxg3,h5', 'Ra1+,Rc1,Rxc1#', 'https://lichess.org/training/OoDad');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oodj3', 'Rapid', 'bor123', 1615, 'Mysleika', 1698, 'd4,f5,c4,e6,e3,Ne7,Nf3,g6,b3,Bg7,Bb2,O-O,a4,c5,Nbd2,cxd4,Bxd4,Nbc6,Be2,e5,Bc3,e4,Bxg7,Kxg7,Nd4,a6,O-O,Nxd4,exd4,Nc6,d5,Ne5,f3,d6,fxe4,fxe4,Nxe4,Rxf1+,Qxf1,Bg4,Bxg4,Nxg4,Kh1,Qf8,Qxf8+,Rxf8,h3,Nf2+,Nxf2,Rxf2,Rb1,Kf6,Kg1,Rf5,g4,Rf3,Kg2,Re3,Rf1+,Ke7,Rf3,Re2+,Kg3,Rd2,Kh4,b5,axb5,axb5,Re3+,Kd7,Re4,Rd3,b4,bxc4,Rxc4,Rxd5,Rf4', 'g5+,Kg3,gxf4+', 'https://lichess.org/training/Oodj3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ooDvR', 'Rapid', 'HaroldHardrada', 1856, 'truckdriver2020', 1894, 'e4,e5,f4,d5,Nf3,dxe4,Nxe5,Be6,Nc3,Nf6,d4,exd3,Bxd3,Bc5,Qe2,O-O,Be3,Qd6,O-O-O,Qb6,Bxc5,Qxc5,g4,Nc6,g5,Nxe5,Qxe5,Qxe5,fxe5,Ng4,Ne4,Nxe5,Nc5,Rfe8,Nxb7,Ng4,Rhg1,Nf2,Rd2,Nxd3+,Rxd3,Bc4,Rd7,c6,Nd6,Be6,Rc7,Red8,Rd1,Rd7,Rxc6,Rad8,Rd2,Bg4,Rc8', 'Rxc8,Nxc8,Rxd2,Kxd2,Bxc8', 'https://lichess.org/training/ooDvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ooEI3', 'Rapid', 'mt600', 1702, 'Tipsntaps', 1904, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c4,c6,Nc3,Bb4,Bd2,O-O,a3,Bd6,Be2,Bg4,cxd5,cxd5,O-O,Re8,h3,Bh5,Nh2,Bxe2,Nxe2,Ne4,Nc3,Nxd2,Qxd2,Nc6,Rae1,Rxe1,Rxe1,Bc7,Nf3,a6,b4,h6,Ne5,Bxe5,dxe5,d4,Ne2,Qd5,Nf4,Qb3,Qd3,Qa2,e6,fxe6,Nxe6,Re8,Qg6,Re7,Re4,Qb1+,Kh2,Nd8,Qg4,d3', 'Nxd8,Rxe4,Qxe4', 'https://lichess.org/training/ooEI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OoEjj', 'Rapid', 'phenixa', 2134, 'CCD_2019', 2205, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,f3,Be7,Be3,O-O,O-O-O,a6,g4,Be6,h4,c5,Qd2,b5,Qg2,b4,Nd5,Bxd5,exd5,Qa5,Bc4,Nd7,g5,Ne5,Qe2,Nxc4,Qxc4,Qb5,b3,Qxc4,bxc4,a5,Rh2,Rfe8,Re1,f6,f4,fxg5,hxg5,a4,Rhe2,Bf8,f5,Kf7,Bf4,Rxe2,Rxe2,Re8', 'g6+,hxg6,fxg6+,Kxg6,Rxe8', 'https://lichess.org/training/OoEjj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ooEmX', 'Blitz', 'Scorebell', 1632, 'RobertoFilter', 1626, 'd4,e6,c4,d5,e3,Nf6,cxd5,Nxd5,Nc3,Nxc3,bxc3,Nc6,Nf3,Bd6,Bd3,O-O,e4,Re8,e5,Be7,Qc2,g6,Bh6,Bf8,Bxf8,Rxf8,h4,b6,h5,Ne7,Ng5,Bb7,hxg6,Nxg6,Rxh7,Qxg5,Rh2,Bxg2,Be4,Bxe4,Qxe4,f5,exf6,Rxf6,Qxa8+,Kg7,Rg2,Qh5,Kd2,Kf7,Qc8,Nf4,Qxc7+,Kf8,Qg7+,Ke8,Qxf6', 'Qe2+,Kc1,Nd3+,Kb1,Qd1#', 'https://lichess.org/training/ooEmX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OOeSf', 'Rapid', 'Deathmaster_Rdx', 1806, 'mreda1', 1812, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,b4,Bd6,Be3,Ng4,Bg5,Be7,Bxe7,Qxe7,h3,Nf6,Nbd2,d5,exd5,e4,dxe4,Nxe4,dxc6', 'Nxc3+,Kf1,Nxd1', 'https://lichess.org/training/OOeSf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ooezZ', 'Blitz', 'be0wulf', 1914, 'terrys', 1715, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,Bg5,e6,e3,Be7,cxd5,exd5,Bd3,Bxd3,Qxd3,h6,Bxf6,Bxf6,O-O,O-O,Rfe1,Nd7,e4,dxe4,Nxe4,Be7,Qe3,Nf6,Nxf6+,Bxf6,b3,Re8,Qd2,Rxe1+,Rxe1,Qd7,Ne5,Bxe5,Rxe5,Rd8,Qe3,Qxd4,Re8+,Kh7,Rxd8', 'Qa1+,Rd1,Qxd1+,Qe1,Qxe1#', 'https://lichess.org/training/ooezZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OoF4n', 'Blitz', 'gavr', 1703, 'Oscar_Senior', 1536, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,d3,f6,Ne4,f5,Bxd5,Qxd5,Qh5+,g6,Qxg6+,hxg6,Nf6+,Kd8,Nxd5,Nd4,Bg5+,Kd7,O-O,Nxc2,Nbc3,Nxa1,Rxa1,c6,Nf6+,Ke6,f4,Be7,fxe5,Kxe5,Re1+,Kd6,Bf4+,Kc5,Rxe7,Rh4,Bg3,Rd4,Re8,Rxd3,Bf4,a5,h4,b5,h5,gxh5,Nxh5,b4,Na4+,Kb5,b3,Rd1+,Kf2,Ra1,Bc7,Rxa2+,Kg3,Bb7', 'Re5+,c5,Rxc5+,Ka6,Rxa5#', 'https://lichess.org/training/OoF4n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oOg6n', 'Rapid', 'Neongelb3000', 1832, 'Fungi', 1882, 'd4,Nf6,c4,g6,Bg5,Bg7,Nc3,d6,e4,Nbd7,Nf3,O-O,Bd3,h6,Bh4,g5,Bg3,Nh5,Nxg5,hxg5,Qxh5,e5,dxe5,Nxe5,O-O-O', 'Bg4,Bxe5,Bxh5', 'https://lichess.org/training/oOg6n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OogAF', 'Rapid', 'aldiii', 1831, 'lukelegrand', 1898, 'd4,Nf6,Nf3,e6,e3,d5,b3,c5,Bb2,Nc6,a3,Be7,Bd3,O-O,O-O,b6,Ne5,Bb7,f4,Nd7,Rf3,f6,Bxh7+,Kxh7,Rh3+,Kg8,Qh5,fxe5,Qh7+,Kf7,fxe5,cxd4,exd4,Bg5,Nd2,Rh8,Rf1+,Nf6,Qd3,Bh6,exf6,gxf6,Rg3,Bxd2,Qg6+,Ke7,Qxf6+,Kd6,Qf2,Bg5,a4,Qe7', 'Ba3+,Kd7,Bxe7', 'https://lichess.org/training/OogAF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OoGkp', 'Classical', 'Ketergraph', 1715, 'petermirmo', 1709, 'd4,e6,e4,d5,e5,c5,c3,Nc6,Bb5,Qb6,a4,a6,Na3,cxd4,cxd4,axb5,Nxb5,Bb4+,Bd2,Bd7,Bxb4,Nxb4,Nd6+,Ke7,Nf3,Nh6,h3,Nf5,Qd2,Nxd6,exd6+,Qxd6,Qg5+,Kf8,O-O,Rxa4', 'Qd8+,Be8,Qxd6+', 'https://lichess.org/training/OoGkp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OOjfl', 'Blitz', 'TheRowan', 1745, 'Tutrakan', 1760, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,g3,c6,d4,Bg4,Bg2,e6,Qb3,Qc8,Bf4,Nd7,Nf3,h6,e4,Ngf6,h3,Bh5,O-O,Nb6,Rfe1,Be7,Ne5,O-O,Rac1,Nfd7,Nf3,Bg6,d5,exd5,exd5,Bf6,dxc6,bxc6,Ne4,Bxe4,Rxe4,Nd5,Bd6,Rd8,Rec4,Rb8,Qd1,Rb6,Nd4,Bxd4,Qxd4,N7f6,Bc5,Ra6,Qh4,Rxa2,Ba3,Qe6,Rxc6,Qe2,Bxd5,Nxd5,Qc4,Rxa3,Qxe2,Rd3,Rc8,Nf6,Rxd8+,Rxd8,Qa6,Rd7,Rc8+,Kh7,Ra8,Rd1+,Kg2,Rd2,Qa3,Ne4,Kf3,Nxf2,Rxa7,Nxh3,Kg4,Ng5,Qc3,Re2,b4', 'Re4+,Kf5,g6+,Kf6,Re6#', 'https://lichess.org/training/OOjfl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OOkMd', 'Blitz', 'FM nemtsevguru', 2326, 'gruppa_aria', 2383, 'd3,e5,g3,Nc6,Nf3,f5,Bg2,Nf6,O-O,g6,c3,Bg7,Qb3,d6,Nbd2,Qe7,e4,Rb8,d4,fxe4,Ng5,exd4,Ndxe4,Nxe4,Bxe4,Bf6,Bxc6+,Kf8,Ne4,Bh3,Bh6+,Bg7,Bxg7+,Kxg7,Bd5,c6,Qc4,cxd5,Qxd4+,Qe5,Nxd6,Qxd4,cxd4,Bxf1,Kxf1,Rhd8,Nb5,a6,Nc3,b5,a3,Rd6,Re1,b4,axb4,Rxb4,Re2,Rxd4,Re7+,Kh6,h4,Rd2,g4,g5,f4,gxf4,Ne2,f3,Nf4,Rg6,g5+,Rxg5,hxg5+,Kxg5,Ne6+,Kg4,Rg7+,Kf5,Nc5,Rxb2,Nxa6,d4,Nc5,Kf4', 'Nd3+,Kf5,Nxb2', 'https://lichess.org/training/OOkMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oOKX8', 'Rapid', 'PedroRamon', 1750, 'MasterNKq', 1809, 'e4,e5,Bc4,Nf6,d3,Nc6,a3,Bc5,Nc3,d6,f4,O-O,f5,h6,Nf3,Ng4,h3', 'Nf2,Qd2,Nxh1', 'https://lichess.org/training/oOKX8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oOLNx', 'Classical', 'tomas47t', 1842, 'Lexa-ug', 1773, 'd4,Nf6,Nf3,d5,Bf4,c5,e3,Nc6,h3,e6,c3,b6,Bb5,Bb7,Ne5,Rc8,Qa4,Bd6,Qxa7,Qc7,Nxc6,Bxf4,Ne5+,Ke7,Bc6,Bxe5,Qxb7,cxd4,exd4,Bxd4,O-O,Be5,Qxc7+,Rxc7,Bb5,Rc5,a4,Ra8,Nd2,Bf4,Nb3,Rc7,Nd4,Kd6,Bd3,Ke7,Rfe1,Nd7,g3,Bd6', 'Nf5+,Kf6,Nxd6', 'https://lichess.org/training/oOLNx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OONEm', 'Rapid', 'MJB1991', 1919, 'hamdgaddour', 1956, 'd4,d6,Bf4,Nd7,e4,e5,dxe5,dxe5,Bg3,g6,Nf3,Bg7,Bb5,c6,Bc4,Nh6,h3,O-O,Nc3,Kh8,Qd6,Qe8,O-O-O,a6,Kb1,b5,Qxc6,Rb8,Bb3,Ng8,Bh4,Rb6,Qc7,Rb7,Qc6,Rb6,Qd5,h6,Rd2,g5,Bg3,Ne7,Qd3,Nc6,Nd5,Rb8,h4,g4,Nh2,h5,f3,Nf6,fxg4,Nxd5,Bxd5,hxg4,c3,b4,cxb4,Nxb4,Qe2,f5,exf5,Bxf5+,Ka1,Qc8,Bxe5,Rb5,Bxg7+,Kxg7,Bb3,Re8,Qf2,Rc5,a3', 'Rc1+,Rxc1,Qxc1#', 'https://lichess.org/training/OONEm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oopdc', 'Blitz', 'edsoncezar', 1926, 'hippotiger', 1921, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,Nh4,Nbd7,Nxg6,hxg6,Bd3,e6,c3,Bd6,O-O,Nh5,Ne4,Bxh2+,Kxh2,Qh4+,Kg1,Qh1+,Kxh1', 'Ng3+,Kg1,Rh1#', 'https://lichess.org/training/oopdc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oOPok', 'Classical', 'mirzapoor1349', 1762, 'abcd20010', 1903, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,h3,Bf5,d3,e6,Be2,Nbd7,Be3,c6,Nd4,Bg6,O-O,Bd6,f4,Nd5,Nxd5,cxd5,Bf3,a6,c3,Qc7,Be2,O-O-O,c4,dxc4,Rc1,Kb8,Rxc4,Bc5,b4,Bxd4,Rxc7', 'Bxe3+,Kh2,Kxc7', 'https://lichess.org/training/oOPok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oORZ9', 'Rapid', 'mofire1', 1877, 'Jamie_F', 1870, 'e4,c5,Nf3,g6,Nc3,Bg7,h3,Nc6,Bc4,e6,O-O,Nge7,d3,O-O,a3,d5,exd5,exd5,Bb5,a6,Bxc6,bxc6,Re1,d4,Ne4,Qd5,Ng3,Nf5,Nxf5,Bxf5,Bf4,c4,dxc4,Qxc4,Ne5,Qd5,Nd3,Rfe8,Qd2,c5,b3,c4,bxc4,Qxc4,Rab1,Qc3,Rb3,Rxe1+,Qxe1,Qxe1+,Nxe1,Rc8,Nd3,h5,f3,Rxc2,Nb4,Rc3,Rxc3,dxc3,Nxa6,c2,Bc1,Bd4+,Kh2,Bd3,Nb4,Bf5,g4,hxg4,hxg4,Be5+,Kg2,Be6,Nxc2,Bb3,Nb4,Kf8,Nc6,Bg7,Kf2,Ke8,Ke2,Kd7,Na5,Ba4,Kd2', 'Bh6+,Kd3,Bxc1', 'https://lichess.org/training/oORZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OosPX', 'Rapid', 'agus_math', 2201, 'frankie_gm', 2323, 'd4,e6,c4,b6,Nf3,Bb7,e3,f5,Be2,Bb4+,Bd2,Qe7,Nc3,Nf6,a3,Bxc3,Bxc3,d6,O-O,Nbd7,Bb4,a5,Bc3,Ne4,Qc2,O-O,Rad1,Rf6,d5,e5,g3,a4,Bb4,Ndc5,Bd3,Qd7,Ne1,Raf8,f4,exf4,exf4,c6,Be2,cxd5,cxd5,Qf7,Nf3,h6,Qc4,g5,fxg5,hxg5,Bxc5,bxc5,Qc2,Bxd5', 'Rxd5,Qxd5,Bc4', 'https://lichess.org/training/OosPX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OOu6p', 'Rapid', 'll566847', 1764, 'Mojtaba1352', 1815, 'e4,e6,Nf3,b6,d4,Bb7,Nc3,h6,Bb5,a6,Bd3,Nf6,O-O,Bb4,a3,Bxc3,bxc3,Bxe4,Bxe4,Nxe4,Re1,Nxc3,Qd3,Nd5,Ne5,O-O,Ng4,Qh4,Re4,f5', 'Nxh6+,Qxh6,Bxh6', 'https://lichess.org/training/OOu6p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oOuq2', 'Rapid', 'MEHRDAD2017', 1904, 'mohammadmahdi82', 1963, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bb4+,Bd2,Bxd2+,Qxd2,Nf6,e5,d5,exf6,dxc4,fxg7,Rg8,Qe2+,Qe7,Qxe7+,Kxe7,O-O,Rxg7,Rd1,Bg4,Kf1,Bxf3,gxf3,Rag8,Ke2,Rg2,Na3,Ne5,Rxd4,Rxh2,Re4,Kf6,Nxc4,Nxc4,Rxc4,c6,Rf4+,Ke7,Re1,h5,Kd3+,Kf8,Rfe4,Rxf2', 'Re8+,Kg7,Rg1+', 'https://lichess.org/training/oOuq2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oOvDn', 'Rapid', 'Vinaygn', 1743, 'kamuran4747', 1744, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,Bb4,Bd3,d5,Bd2,dxe4,Nxe4,Bxd2+,Nexd2,Qe7,Qe2,Bg4,O-O,O-O,Ne4,Nd4,Nxf6+,Qxf6,Qxe5', 'Nxf3+,gxf3,Qxe5', 'https://lichess.org/training/oOvDn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oovLZ', 'Blitz', 'Embaby22', 1623, 'IndyCollado', 1567, 'e4,d6,Bc4,Nf6,d3,g6,Nc3,Bg7,a3,O-O,Nge2,b6,h3,Bb7,g4,Kh8,Ng3,Ng8,h4,Nd7,h5,h6,f4,e5,f5,g5,Rf1,Ndf6,Qf3,Ne7,Be3,c6,Ba2,a5,O-O-O,a4,Nce2,b5,Ng1,c5,Nh3,b4,Bxg5,hxg5,Nxg5,Bh6,Qe3,bxa3', 'Nxf7+,Rxf7,Qxh6+,Nh7,Bxf7', 'https://lichess.org/training/oovLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OOvz1', 'Rapid', 'vahidmk', 2012, 'adam1920', 2071, 'd4,d5,c4,c6,e3,Nf6,Nf3,Bf5,Nc3,e6,a4,Bb4,Bd2,O-O,c5,b6,cxb6,axb6,Be2,h6,O-O,Nbd7,Ne5,Nxe5,dxe5,Nd7,f4,Nc5,g4,Bd3,Bxd3,Nxd3,Qc2,Nc5,Rf3,Rc8,Rh3,d4,g5,dxc3,gxh6,g6,bxc3,Ba5,Rg3,Qd3,Qxd3,Nxd3,e4,Rfd8,h4,Kh7,f5,exf5,exf5,Nxe5,fxg6+,fxg6,Bg5,Rd3,Rxd3,Nxd3,Rf1,Bxc3,Rf7+,Kg8,Rd7,Ne5', 'h7+,Kh8,Bf6#', 'https://lichess.org/training/OOvz1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oOwjt', 'Rapid', 'xmla', 1813, 'sylvesta', 1819, 'd4,Nf6,c4,e6,Nc3,Be7,e4,O-O,e5,Ne8,Nf3,d6,d5,a6,a4,c6,Bf4,cxd5,cxd5,dxe5,Bxe5,Bd6,dxe6,Bxe6,Bd3,Bxe5', 'Bxh7+,Kxh7,Qxd8', 'https://lichess.org/training/oOwjt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ooWzp', 'Blitz', 'Kartik19101981', 1749, 'tsitsila', 1739, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,d5,Nf6,dxe6,Qxd1+,Nxd1,Bxe6,Bf4,Bc5,Bxc7,Ne4,Bg3,O-O,Nc3,Nxc3,bxc3,Re8,O-O-O,Bxa2,Kb2,Be6,Bb5,Nc6,Nf3,a6,Bxc6,bxc6,Ne5,Rab8+,Kc1,Ba3+,Kd2,Red8+,Ke3,Bc5+,Ke2,f6,Nxc6,Bc4+,Ke1,Re8+,Kd2', 'Re2+,Kc1,Ba3#', 'https://lichess.org/training/ooWzp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oOxkd', 'Classical', 'SA_mad', 1857, 'Bixente23', 1900, 'e4,e5,f3,Nc6,Bc4,Bc5,Ne2,Nf6,c3,O-O,d4,exd4,cxd4,Bb6,O-O,d5,exd5,Nxd5,Nbc3,Nxc3,bxc3,Re8,Ng3,Be6,Bd3,Na5,f4,Bc4,f5,Qd5,f6,g6,Qd2,Qd6,Qh6,Qf8,Qd2,Re6,Bxc4,Nxc4,Qg5,Rae8,Bf4,Ne3,Bxe3,Rxe3,Nf5,R3e5,Kh1,Re2,Ne7+,Kh8,Rf3,c6,Rh3,Bd8,Qh4,h5', 'Qxh5+,gxh5,Rxh5+,Qh6,Rxh6#', 'https://lichess.org/training/oOxkd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ooXN5', 'Rapid', 'Butron', 1895, 'Sod-Erdene', 2020, 'd4,d5,Nc3,Nf6,Bg5,e6,a3,Be7,e3,O-O,Bd3,c5,dxc5,e5,Bxf6,Bxf6,Nxd5,Nc6,b4,Be6,Nxf6+,Qxf6,Nf3,Rad8,O-O', 'e4,Bxe4,Rxd1', 'https://lichess.org/training/ooXN5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OoxrI', 'Rapid', 'hapne', 1657, 'mystifen', 1801, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,Nf3,d6,e4,Nbd7,Be2,c5,d5,Qa5,O-O,Re8,Qc2,Ng4,h3,Nge5,a3,a6,Rfb1,b5,b4,cxb4,axb4,Qc7,cxb5,Nxf3+,Bxf3,Qxc3,Qxc3,Bxc3,Ra3,Bd4,Be2,Ne5,bxa6,f6,Bh6,f5,exf5,Bxf5,Rd1,Ba7,b5,Rec8,Bf1,Bc5,Rb3,Bc2,b6,Bxd1,Rb1,Bc2,Rb2,Bd3,b7,Bxa6,bxc8=Q+,Bxc8,Bg5,Kf7,Kh2,Bxf2,Rxf2+,Kg7,Bxe7,Nf7,Bf6+,Kg8,Rc2,Bf5,Rc7,Ra5,Bc4,Rc5,Rxc5,dxc5,Be7,Ne5,Ba2,c4,d6,Bd3,Bf6,Nd7,Be7,Kf7,Kg3,Ke6,Kh4,h5,Kg5,Nb6,g4,hxg4,hxg4,Nc8,Kf4', 'Nxe7,dxe7,Kxe7', 'https://lichess.org/training/OoxrI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ooYe3', 'Rapid', 'rymar66', 1714, 'Nayeon', 1762, 'd4,d5,e3,e6,c4,Nf6,cxd5,exd5,a3,Bd6,Bd3,O-O,Nc3,Nc6,b4,Re8,h3,Bd7,Bc2,Ne4,Nxe4,dxe4,Ne2,Bf5,Bb2,Qg5,g4,Bg6,Qd2,h6,O-O-O,Rad8,Rdf1,Nb8,h4,Qxg4,Rfg1,Qf5,Ng3,Bxg3,Rxg3,Nd7,Rhg1,Nf6,f4,Qd5,f5,Qxf5,Qg2,Kh7,Rf1,Qd5,Kb1,Rd6,Rf4,Nh5,Rxg6,fxg6,Qg4,Nxf4,Qxf4,Rf6,Qh2,Rf1+,Bc1,Ref8,Qg2,R8f2,Qg4,Qc4,Qxe4,Qxc2+,Qxc2,Rxc2,Kxc2,Rh1,e4,Rxh4,Kd3,Rh3+,Kc4,c6,e5,Re3,Bxe3,g5,e6,Kg6,d5,Kf6,Bxa7,cxd5+,Kxd5,Ke7,Bc5+,Ke8,Ke5,h5,Kf5,g4,Bd6,g6+,Kxg6,h4,Kg5,g3,Bc5', 'h3,Kh4,h2,Kxg3,h1=Q', 'https://lichess.org/training/ooYe3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OOyUA', 'Rapid', 'phazholangy', 1883, 'weger', 1698, 'e4,b6,Nf3,Bb7,Bc4,Bxe4,Nc3,Bb7,d4,g6,Ne5,e6,d5,Bg7,dxe6,dxe6', 'Qxd8+,Kxd8,Nxf7+', 'https://lichess.org/training/OOyUA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oOyzr', 'Rapid', 'chessbi', 2215, 'HAKI-IMAD-SY', 1997, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Ng3,e5,Nf3,exd4,Qxd4,Qxd4,Nxd4,Bc5,Nb3,Bb4+,c3,Bd6,Bg5,Nbd7,Nf5,Bf8,O-O-O,h6,Bf4,Nd5,Nd6+,Bxd6,Bxd6,N7f6,Bc4,Be6,Nc5,Rd8,Nxe6,fxe6,Ba3,Kf7,Rhe1,Ng4,Rd2,Rhe8,f3,Ngf6,g3,b5,Bd3,Rd7,Bc5,a6,Kc2,Red8,Red1,Ne7,b3,Rd5,b4,R5d7,h4,Nf5,Bxf5,Rxd2+,Rxd2,Rxd2+,Kxd2,exf5,Kd3,h5,c4,Ke6,Kd4,Nd7,cxb5,cxb5,f4,g6,Ba7,Kd6,Bc5+', 'Nxc5,bxc5+,Kc6,Ke5,Kxc5', 'https://lichess.org/training/oOyzr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ooz23', 'Classical', 'peanut88', 1964, 'LogicPlusMath', 1933, 'd4,Nf6,Nf3,d6,c4,Bg4,e3,Nbd7,Be2,e5,dxe5,dxe5,Nbd2,Bb4,O-O,O-O,a3,Bxd2,Nxd2,Bf5,b4,e4,Qc2,Ne5,Bb2,Nd3,Bxf6,Qxf6,f3,Qg6,Nxe4,Bxe4,fxe4,Ne5,Rf5,Rae8,Raf1,Qe6,c5,Qh6,Qc3,f6,Bb5,Rd8,h3,c6,Be2,Kh8,b5,Nf7,bxc6,bxc6,R1f3,Ng5,R3f4,Nxh3+,gxh3,Qxh3,Rg4,Rde8,Kf2,Qh2+,Rg2,Qh4+,Kf3', 'Qxe4+,Kf2,Qxf5+', 'https://lichess.org/training/Ooz23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OP1Ou', 'Rapid', 'diemerson1987', 1631, 'bugra', 1605, 'e4,d6,d4,g6,Nc3,Bg7,Nf3,Nf6,e5,Nfd7,exd6,cxd6,Bb5,a6,Ba4,b5,Nxb5,axb5,Bxb5,O-O,O-O,Qb6,a4,Bb7,Re1,e6,b3,Nc6,Bb2,Nf6,d5,Nxd5,Bxg7,Kxg7,c4,Nc3,Qd3,Nxb5,cxb5,Nb4', 'Qc3+,e5,Qxb4', 'https://lichess.org/training/OP1Ou');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oP2Ki', 'Rapid', 'chessefo', 1711, 'beyazid1453', 1688, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,Bb5,Bd6,O-O,O-O,Bc4,Nb6,Bb3,Kh8,Ng5,Kg8,Nc3,Na5,f4,Nxb3,axb3,exf4,Bxf4', 'Bxf4,Rxf4,Qxg5', 'https://lichess.org/training/oP2Ki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Op6Kh', 'Rapid', 'adinmadrid', 1614, 'taketurn', 1607, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,a6,Bxc6+,bxc6,dxe5,Bg4,exd6,cxd6,O-O,Be7,Re1,Bf6,c3,Ne7,Nbd2,Be5,Qc2,Ng6,h3,Bxf3,Nxf3,Nf4,Nxe5,dxe5,Bxf4,exf4,Rad1,Qg5,Qd2,O-O,g3,Qa5,Ra1,fxg3,fxg3,Rad8,Qe3,Qh5,Kh2,f5,exf5,Rde8,Qd2,Qxf5,Rg1,Rd8,Qe2,Rde8,Qd2,Qf3,Qd1', 'Re2+,Qxe2,Qxe2+', 'https://lichess.org/training/Op6Kh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oP6Oe', 'Rapid', 'genji2000', 1701, 'pt_zhu', 1648, 'e4,d6,d4,g6,Be3,Bg7,Nc3,Nf6,Nf3,e5,dxe5,dxe5,Qxd8+,Kxd8,Ng5,Ke7,Nb5,Na6,f3,c6,Nxa7,Be6,Bxa6,bxa6,Nxc6+,Kd7,Nxe5+,Ke7,Nexf7,Bxf7,Bc5+,Ke8,O-O-O,Bh6,f4,Bxg5,fxg5,Nxe4', 'Rhe1,Bd5,Rxd5', 'https://lichess.org/training/oP6Oe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oP6sX', 'Rapid', 'KeLLyAnneKanye2020', 1660, 'misteraverage', 1637, 'd4,d5,Bf4,Nf6,e3,Nc6,Bd3,Ne4,c3,e5,dxe5,Bf5,Nf3,Bc5,O-O,Qd7,Nbd2,Nxd2,Bxf5', 'Nxf3+,Qxf3,Qxf5', 'https://lichess.org/training/oP6sX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('opAM0', 'Classical', 'Asi_Hablo_Zaratustra', 1911, 'teopati', 1864, 'Nf3,d5,c4,dxc4,e3,b5,a4,Bd7,Ne5,e6,Nxd7,Qxd7,axb5,Qxb5,Nc3,Qb3,Qf3,c6,Ra4,Bb4,Rxb4,Qxb4,Qg4,Nf6', 'Qxg7,Rg8,Qxf6', 'https://lichess.org/training/opAM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oPAYc', 'Rapid', 'Kaus_Australis', 1748, 'GodSaveTheQueene', 1824, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,Bb5,a6,Bxc6+,Qxc6,O-O,Bg4,d4,e6,Re1,Nf6,Bg5,Nd5,Nbd2,h6,Bh4,cxd4,cxd4,Bb4,Rc1,Qb6,Qa4+,Kf8,Nc4,Qa7,Re4,Bxf3,gxf3,b5,Qb3,bxc4,Rxc4,g5,Bg3,Rd8,Be5,f6,Rc7,Nxc7,Qxb4+,Kf7,Bg3,Nd5,Qb3,Rb8,Qc2,Rhc8,Qb1,Rb4,Rg4,Rxd4', 'Qh7+,Ke8,Qxa7,Rxg4,fxg4', 'https://lichess.org/training/oPAYc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OpbDU', 'Blitz', 'DanasH3', 2086, 'x-point', 2325, 'e4,e5,f4,exf4,Nf3,g5,d4,Bg7,Nc3,h6,g3,g4,Nh4,f3,h3,h5,Be3,d6,Qd2,c6,Bc4,Bf6,O-O-O,b5,Bb3,a5,a3,a4,Ba2,Bxh4,gxh4,gxh3,Bg5,f6,Bf4,Bg4,Bxg8,Rxg8,e5,dxe5,Qe3,Qe7,dxe5,fxe5,Bg5,Rxg5,hxg5,Nd7,Ne4,O-O-O,Rd6,Nb8,Rhd1,Rxd6,Rxd6,h2,Rd1,Qe6,Qb6,Qe7,Nc5,f2', 'Rd8+,Qxd8,Qb7#', 'https://lichess.org/training/OpbDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('opBMI', 'Bullet', 'kimaga', 1942, 'filipgovedo', 1941, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c6,Bg5,Be7,e3,h6,Bf4,Bd6,Bg3,Bxg3,hxg3,dxc4,Bxc4,b5,Bd3,Bb7,Ne4,Nbd7,Rc1,Rc8,Nc5,Nxc5,dxc5,O-O,O-O,Rc7,Bb1,Rd7,Qc2,Qe7,g4,g5,Rfd1,Rfd8,Rxd7,Rxd7,b4,Qd8,Ne5,Rd5,Nxf7,Kxf7,Qg6+,Ke7', 'Qg7+,Ke8,Bg6#', 'https://lichess.org/training/opBMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('opDT0', 'Rapid', 'Neverness', 2001, 'i0__0t', 1879, 'e4,c5,Nf3,Qc7,Nc3,e5,Bc4,Nc6,a3,Qd8,d3,h6,Be3,g5,Nd5,d6,c3,Bg7,Rb1,Nge7,b4,cxb4,axb4,Ng6,b5,Na5,Qa4,b6,Ba2,Bb7,Kd2,O-O,g3,Kh7,h4,g4,Ne1,h5,f4,exf4,gxf4,f5,Nc2,Rc8,Nd4,fxe4,f5,Ne5,Bg5,Qd7,dxe4,Nec4+,Kc2,Bxd4,cxd4,Ne3+,Kb2,Nxd5,exd5,Rxf5,Rhe1,Rf7,Re6,a6,Qd1,Qxb5+,Ka1,Qa4,Qd3+,Kg8,Rg6+,Kf8,Bh6+,Ke8,Qe3+,Re7,Re6,Rc7,Rf1,Bxd5', 'Rf8+,Kd7,Rxe7+', 'https://lichess.org/training/opDT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oPHKq', 'Classical', 'kulik2007', 1972, 'HerovermyweaksouLL', 1916, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,O-O,Nc2,Bg5,h4,Bh6,g3,Ne7,a4,Nxd5,Qxd5,Be6,Qd3,Bc4,Qf3,Bxf1,Kxf1,Qb6,Nb4,bxa4,Rxa4,Qb5+,Kg2,Qxa4,Rd1,a5,Nd5,Kh8,Nb6,Qc6,Nxa8,Qxa8,Rxd6,f5,exf5,Qxf3+,Kxf3,Rxf5+,Ke4,g6,f3,Bc1,b3,Bb2,c4,Kg7,Rd7+,Kh6,g4,Rf4+,Ke3,Bd4+,Ke2,g5,hxg5+,Kxg5,Rxh7,Rf6,Rg7+,Kf4,g5,Rb6,g6,Rxb3', 'Rf7+,Kg3,g7,Rb8,Rf8', 'https://lichess.org/training/oPHKq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OPhte', 'Classical', 'IngiBen', 1696, 'jelik', 1707, 'e4,e5,Nf3,d6,d4,Qe7,dxe5,dxe5,Nc3,c6,b3,Bg4,Bb2,Bxf3,Qxf3,f6,Bc4,b5,Nxb5,cxb5,Bxb5+,Nd7,O-O-O,Rd8,Rd3,Qc5,Bxd7+,Rxd7,Rxd7,Kxd7,Rd1+,Ke7,b4,Qxb4', 'Ba3,Qxa3+,Qxa3+', 'https://lichess.org/training/OPhte');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OphZ9', 'Blitz', 'kazeriahm', 2174, 'Dozer-1234', 2219, 'd4,c5,d5,g6,Nc3,Bg7,e4,d6,Nf3,Nf6,Be2,O-O,O-O,e6,dxe6,Bxe6,a4,Bg4,Bg5,h6,Bf4,Ne8,Qd2,Nc6,Bxh6,Bxf3,Bxf3,Nd4,Be2,Bxh6,Qxh6,Nxc2,Rad1,Nd4,Bc4,Qf6,Nd5,Qd8,Rd3,Nf6,Ne7+,Qxe7,Qxg6+,Kh8', 'Rh3+,Nh7,Rxh7#', 'https://lichess.org/training/OphZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Opi8j', 'Blitz', 'mhmdnor', 1861, 'ICETHRON', 1977, 'e4,c6,c3,e6,d4,d5,e5,c5,Nf3,Nc6,Nbd2,Bd7,Nb3,c4,Nbd2,Nce7,Be2,Nf5,O-O,h5,Re1,Qc7,Nf1,Nge7,Ne3,Nxe3,Bxe3,Nf5,Qd2,Be7,Rad1,b5,b3,a6,bxc4,bxc4,Rb1,Bb5,Rb2,Kd7,Reb1,Rab8,Ne1,g6,Nc2,Nxe3,fxe3,Bg5,Rf1,Ke7,Bf3,Bc6,Qf2,Rxb2,Bd1,Be8,h4,Bh6', 'Qf6+,Kd7,Qxh8,Rxc2,Bxc2', 'https://lichess.org/training/Opi8j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('opj3g', 'Rapid', 'qwerty0000', 1612, 'AGermanMan', 1680, 'e4,b6,Nc3,Bb7,d4,e6,Nf3,Bb4,Bd2,Bxc3,Bxc3,Bxe4,Bd3,Bxd3,Qxd3,d5,O-O,Nf6,Rfe1,O-O,b3,Qd6,Bb2,c5,dxc5,bxc5,Bxf6,gxf6,h3,Nd7,Nh2,Kh8,Ng4,Rg8,Qf3,f5,Nh6,Rg7,Qc3,e5', 'Nxf5,Qg6,Nxg7', 'https://lichess.org/training/opj3g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OPKqa', 'Rapid', 'rakus', 1629, 'Hamza507', 1636, 'c4,g6,d4,Bg7,Nf3,d6,e3,Nd7,Bd3,e5,Nbd2,Ne7,O-O,Nc6,d5,Ne7,e4,O-O,b3,f5,Rb1,f4,h3,Nf6,Nh2,g5,Ng4,h5,Nxf6+,Bxf6,Qxh5,Rf7,Qf3,Ng6,b4,Rg7,c5,Nh4,Qe2,g4,hxg4,Rxg4,f3,Rg3,cxd6,cxd6,Rf2,Qe7,Nf1,Rg5,Nh2,Qg7,Ng4,Bxg4,fxg4,Rxg4,Kf1,Rf8,Bb2,Bg5,Qxg4,f3,Qe6+,Kh8,gxf3,Be3,Qg4', 'Qxg4,fxg4,Rxf2+', 'https://lichess.org/training/OPKqa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OPL0L', 'Rapid', 'pul8', 1733, 'Dzaniplays', 1724, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,d6,h3,Be6,Be3,d5,Qc2,d4,cxd4,exd4,Bg5,Bb4+,Nbd2,h6,Bh4,Bxd2+,Qxd2,Qd6,e5,Nxe5,Nxe5,Qxe5+,Be2,O-O-O,O-O,g5,Bg3,Qb5,Rac1,Nd5,Bf3,c6,Be5,f6,Bxd4,Kb8,Bxd5,Rxd5,Bxf6,Rg8,Rfe1,Bf5,d4,h5,Bxg5,Bxh3,Bf4+,Kc8,g3,h4,Qe3,hxg3,fxg3,Qxb2,Qf2,Qxd4,Re3,Qd2', 'Re8+,Rxe8,Bxd2', 'https://lichess.org/training/OPL0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oPLEC', 'Rapid', 'Leandr', 1668, 'Endgamer1', 1715, 'd4,d5,f3,Nf6,e3,Bf5,Bd2,e6,Nc3,a6,h3,h5,f4,Nbd7,Qf3,Ne4,Nxe4,Bxe4,Qe2,Nf6,O-O-O,b5,Qf2,Bd6,Ba5,Qe7,Nf3,c5,Ne5,Qb7,Bd3,c4,Bxe4,Nxe4,Qh4,Be7,Qe1,Rc8,c3,h4,Rf1,Ng3,Rf3,Rb8,Rxg3,hxg3,Qxg3,O-O,h4,b4,Kc2,b3+,axb3,Qxb3+,Kd2,Qxb2+,Ke1,Rb5,h5,Rxa5,h6,Qxc3+,Kf1,Bf6,Nd7,Ra1', 'Nxf6+,Kh8,Qxg7#', 'https://lichess.org/training/oPLEC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('opMOg', 'Rapid', 'Bobrik11', 1790, 'tichtennis4795', 1791, 'e4,e5,b3,Nc6,Bb2,Bc5,Nc3,Nf6,Bd3,d6,Na4,Bb6,Nxb6,axb6,Ne2,O-O,O-O,h6,f4,exf4,Nxf4,Ne5,Nh5,Nxh5,Qxh5', 'Bg4,Qxe5,dxe5', 'https://lichess.org/training/opMOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('opnJL', 'Classical', 'azur4000', 1615, 'knosh', 1608, 'h4,Nf6,f3,d5,e3,c5,Ne2,Nc6,c3,h6,a4,Bf5,Na3,Bd3,Nf4,Bxf1,Rxf1,e5,Nh3,Nh5,f4,Qxh4+,Nf2,Ng3,Nb5,O-O-O,Rg1,a6,Na3,Ne4,Qg4+,Qxg4,Nxg4,exf4,d3,Ng3,exf4,Bd6,Kf2,Nh5,f5,Rhe8,Nc2,Ne5,Nge3,Nxd3+,Ke2,Nxc1+,Raxc1,Bf4,Kf3,Re5,g4,Bxe3,Nxe3,Nf6,Rcd1,Ne4,Kf4,Nf2,Kxe5,Nxd1,Rxd1,Re8+,Kf4,Re4+,Kf3,Rxa4,Nxd5,Ra2,Nb6+,Kc7,Nc4,b5,Nd6,Rxb2,Ne8+,Kc6,Rd6+,Kb7,Nxg7,a5,Rd7+,Kb6,Rxf7,a4,Rf6+,Kb7,Rxh6,a3,f6', 'a2,Rh1,Rb1,Rxb1,axb1=Q', 'https://lichess.org/training/opnJL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OPoBb', 'Rapid', 'metamagician', 1950, 'vito-vito', 1819, 'e4,g6,Nf3,Bg7,d4,d6,Bc4,Nf6,Nc3,O-O,O-O,Nc6,e5,dxe5,dxe5,Ng4,Bf4,Ncxe5,Bxe5,Nxe5,Nxe5,Bxe5,Qf3,Bf5,Rad1,Qc8,Rfe1,Bd6,Ne4,a6,Ng5,h6,Bxf7+,Rxf7,Nxf7,Kxf7,Qd5+,Kg7,c4,c5,a3,Qc7,g3,Re8,f4,e6', 'Qxd6,Qxd6,Rxd6', 'https://lichess.org/training/OPoBb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Opomc', 'Blitz', 'kingwolf1234', 2358, 'GM Fighterman91', 2632, 'Nf3,Nf6,c4,g6,g3,Bg7,Bg2,O-O,O-O,d6,Nc3,Nbd7,d4,e5,dxe5,dxe5,Bg5,c6,Ne4,Qe7,Qc1,Rd8,Rd1,h6,Nxf6+,Nxf6,Bxh6', 'Rxd1+,Qxd1,Bxh6', 'https://lichess.org/training/Opomc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oPOv7', 'Classical', 'Master1467', 1761, 'caiputere', 1701, 'g3,c5,Bg2,Nc6,Nf3,e6,O-O,d5,d3,b5,Bg5,Nf6,Nc3,a6,a3,h6,Bf4,g5,Be5,Bg7,d4,b4,axb4,cxb4,Na4,Bb7,Nc5,Qc8,c3,O-O,Nxb7,Qxb7,Qd3,Rfc8,c4,Nxe5,dxe5,Ng4,h3,Nxe5,Nxe5,Bxe5,cxd5,Bxb2,Rab1,Bc3,dxe6,Rd8,exf7+,Qxf7,Qc2,Rac8,Rfd1,Be1', 'Rxd8+,Rxd8,Rxe1', 'https://lichess.org/training/oPOv7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oppwB', 'Rapid', 'nisandi', 1775, 'SenayaS', 1797, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Nc3,O-O,Bg5,h6,Bh4,d6,h3,g5,Bg3,Ne7,h4,g4,Nd2,h5,Qe2,d5,exd5,Nfxd5,Nxd5,Nxd5,Qxe5', 'Re8,Qxe8+,Qxe8+', 'https://lichess.org/training/oppwB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('opqCA', 'Rapid', 'dmprosh', 1620, 'KievUA', 1692, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Nf6,Nc3,Be7,d3,O-O,Re1,Nh7,Nd5,c6,Nxe7+,Qxe7,h3,Kh8,Nh2,f5,c3,f4,Ng4,Qg5,d4,h5,dxe5,dxe5,Be2,hxg4,Bxg4,Bxg4,hxg4,Nf6,f3,Kg8,Qb3+,Kh7,Qxb7,Nbd7,Qxc6,Kg6,Kf2,Rac8,Qb7,Ra8,b4,Nb6,Rh1,Nc4,Qc6,Rac8,Qa6,Rc7', 'Rh5,Qxh5,gxh5+', 'https://lichess.org/training/opqCA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oPSA9', 'Rapid', 'zisoy', 1813, 'Godzilaa', 1837, 'e4,e5,c4,Nf6,d3,Bb4+,Nc3,Nc6,Bg5,h6,Bxf6,Qxf6,Nf3,d6,Be2,Bg4,O-O,O-O,Nd5,Qd8,a3,Bc5,b4,Bd4', 'Nxd4,Nxd4,Bxg4', 'https://lichess.org/training/oPSA9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OpssK', 'Classical', 'Pokkerivana', 1693, 'Mephisto_59', 2028, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,Nf3,O-O,Bxf6,Bxf6,Qb3,c6,Rd1,Re8,e3,Nd7,Na4,Qa5+,Rd2,b5,Nc5,Nxc5,dxc5,Bg4,Be2,Rad8,Nd4,Bd7,Qa3,Qxa3,bxa3,Bxd4,exd4,Re4,O-O,Rde8,Re1,Bf5,Kf1,a5,h3,h6,g4,Bg6,Kg2,R4e6,Rb2,a4,Rd2,f5,Kg3,fxg4,hxg4,Re4,Rb2,Rxd4,f4,Bf7,Rd1,Rxd1,Bxd1,Re3+,Kh4,Rxa3,g5,hxg5+,fxg5,Bg6,Bc2,Bxc2,Rxc2,g6,Kg4,Kf7,Kf4,Ke6,Re2+,Kd7,Rc2,Rh3,Re2,Rh4+,Ke5,Rc4,Kf6,Rxc5,Kxg6,d4,Rd2,Rd5,Kf6,c5,g6,Kc6,g7,Rd8,Rg2,c4,g8=Q,Rxg8,Rxg8,d3,Ke5,Kc5,a3', 'd2,Rc8+,Kb6,Rd8,c3', 'https://lichess.org/training/OpssK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('opT5i', 'Rapid', 'tdfq', 1604, 'Luis-Fragoso', 1647, 'd4,d5,c4,c6,Nc3,e6,cxd5,cxd5,e3,Nf6,Bd3,Bd6,Nf3,O-O,Nb5,Qa5+,Nc3,Bd7,O-O,a6,e4,dxe4,Nxe4,Nxe4,Bxe4,Bc6,Qd3,Bxe4,Qxe4,Qc7,g3,Nd7,Ng5,g6,Nxe6,fxe6,Qxe6+,Kh8,Bh6,Rae8,Qb3,Rg8,Rae1,Rxe1,Rxe1,Bf8,Rc1,Qb8,Bxf8,Rxf8,Qe6,Qe8,Qd5,b5,Qb7,Qf7,f4,Qe6,Rc7,Rd8,d5,Qe3+,Kg2,Qd3,Rxd7,Qc2+,Kh3', 'Qf5+,g4,Qxd7', 'https://lichess.org/training/opT5i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oPTVA', 'Rapid', 'NCRAM2', 1996, 'klima2626', 2056, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qf5,f3,e5,e4,Qh5,Be3,Bb4,d5,Bxc3+,bxc3,O-O,Bd3,Qg6,Qe2,Nbd7,Nh3,Nb6,Kf2,Bxh3,gxh3,Qh5,Rag1,Qxh3,Rg3,Qh4,Bg5,Ng4+,fxg4,Qxg5,h4,Qf4+,Kg2,Qf6,g5,Qe7,h5,c6,dxc6,bxc6,g6,fxg6,hxg6,h6,Bc4+,Kh8,Bf7,Nd7,Qh5,Nf6,Qxh6+,gxh6,g7+,Kh7,Rg6,Rxf7', 'Rhxh6+,Kg8,Rh8#', 'https://lichess.org/training/oPTVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OpuZf', 'Rapid', 'SlavicSvK', 2166, 'Milan88', 1818, 'c4,c6,Nf3,d5,d4,dxc4,Qc2,b5,b3,cxb3,axb3,Nf6,Bf4,Bd7,e4,a5,Bd2,b4,Bxb4,e6,Bxf8,Kxf8,Bd3,g6,Qd2,Kg7,b4,a4,Nc3,a3,Nb1,a2,Rxa2,Rxa2,Qxa2,Re8,O-O,Qb6,Qa5,Qb7,Nc3,Bc8,b5,cxb5,Bxb5,Rf8,Re1,Nc6,Qa2,Nb4,Qb3,Nc6,e5,Nd5,Nxd5,exd5,Qxd5,Ne7,Qd6,Nf5,Qf6+,Kg8,Bd3,Qb4,d5,Nd4,Re3,Nxf3+,gxf3,Bh3,f4,Bg4,Rg3,Qe1+,Kg2,Bh5,Rg5,Bd1,Bf1,Qe4+,f3', 'Qxf3+,Kg1,Qe3+', 'https://lichess.org/training/OpuZf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oPVF9', 'Rapid', 'Vladimirbobrov', 1635, 'KovalyovArtyom', 1672, 'e4,c5,e5,Nc6,e6,dxe6,Bc4,a6,Nf3,b5,Be2,g6,c4,b4,a3,Bb7,axb4,Nxb4,O-O,Bg7,Qb3,Nf6,d4,Nc6,dxc5,Qc7,Qb6,Qc8,Bf4,O-O,Rd1,Ne4,Ra2,e5,Be3,a5,Ng5,Nxg5,Bxg5,f6,Be3,Ra6,Qb3,Nb4,c6,Qxc6,Bf3,e4,Be2,Nxa2,c5+,Kh8,Bxa6,Qxa6,Qxa2,e6,Nc3,f5,Rd6,Qa8,Rxe6,Bxc3,bxc3,Bd5,Ra6', 'Bxa2,Rxa8,Rxa8', 'https://lichess.org/training/oPVF9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oQ7F6', 'Blitz', 'ROMEO_DELTA', 1574, 'Pavelgarcia', 1619, 'e4,g6,d4,Bg7,Nf3,Nf6,Bd3,O-O,O-O,d6,c4,c6,Nc3,Bg4,h3,Bxf3,Qxf3,Nbd7,Bg5,e5,dxe5,Nxe5,Qe3,Qc7,Bc2,Nxc4,Qc1,Rae8,Re1,d5,exd5,cxd5,Rxe8,Rxe8,Bxf6,Bxf6,Nxd5,Qd6,Nxf6+,Qxf6,Bb3,Nxb2,Rb1,Nd3,Qc4,Qxf2+,Kh1,Re1+,Rxe1,Qxe1+,Kh2,Qe5+,Kg1,Qe3+,Kh2,Ne5,Qc8+,Kg7,Qxb7,Qf4+,Kg1,Qc1+,Kh2,Qf4+,Kg1,h5,Qe7,h4,Qxa7,Qc1+,Kh2,Qe1,Qd4,Qg3+,Kg1,Kh6,Qd8', 'Nf3+,Kf1,Qe1#', 'https://lichess.org/training/oQ7F6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oq7nR', 'Blitz', 'new986', 1755, 'akalper123', 1729, 'e4,c5,Nc3,Nc6,f4,e5,Nf3,Nd4,Nxe5,d6,Nxf7,Kxf7,Bc4+,Ke8,O-O,Nf6,e5,dxe5,fxe5,b5,exf6,bxc4,f7+,Kd7,Qg4+,Kc7,Qg3+,Bd6,Nd5+,Kb7,Qxg7,Bxh2+,Kxh2', 'Qh4+,Kg1,Ne2#', 'https://lichess.org/training/Oq7nR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oq84I', 'Classical', 'lancebarefoot', 2018, 'craigsentirehead', 1993, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bf4,Bd6,Bg5,h6,Bh4,Nbd7,cxd5,exd5,e3,O-O,Bd3,Re8,O-O,Qb6,Qc2,g5,Bg3,Bxg3,hxg3,Nf8,Ne5,N8d7,f4,g4,Bg6,Re7,Bf5,Nf8,Bxc8,Rxc8,Qf5,N8d7,Nxg4,Nxg4,Qxg4+,Kh7,Qf5+,Kg7,b3,Rce8,Rac1,Nf6,Nd1,Rxe3,Nxe3,Qxd4,Kh2,Qxe3,Rce1,Qxe1,Rxe1,Rxe1,g4,Ne4,g5', 'Rh1+,Kxh1,Ng3+,Kg1,Nxf5', 'https://lichess.org/training/Oq84I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oQ8lF', 'Blitz', 'Reg-Ferreira', 2104, 'FM Medalhista', 2324, 'd3,Nf6,f3,e5,g3,d5,Nh3,Bc5,Nf2,O-O,Bg2,h6,O-O,c6,a3,Re8,Nc3,Bb6,e4,Nbd7,Kh1,Nf8,h3,Ng6,f4,exf4,gxf4,Bc7,e5,Nh5,Qxh5,Nh4,Rg1,Nf5,Bf3,Kh7,Qg4,Rg8,Qg2,Nh4,Qg3,Nf5,Qh2,Bb6,Bd2,Nh4,Bg4,f5,Bh5,g6,Be2,g5,fxg5,hxg5,Qg3,f4,Qh2,Bf5,Ng4,Bxg4,Rxg4,Qe7,Rag1,Qxe5,Be1,Nf5,Rxg5,Rxg5,Rxg5,Ng3+,Rxg3,fxg3,Bxg3,Qe3,Bg4,Rf8,Qg2,Qc1+,Kh2,Qxb2,Ne2,Qf6,Nf4,Bc7,Nh5,Bxg3+,Nxg3,Qd4,Bf5+,Kh8,h4,Qxh4+,Kg1,Rg8,Kf2,Qf4+,Qf3,Qd2+,Ne2,Qh6,Nf4,Qh4+,Ke2,Re8+,Kd2', 'Qe1#', 'https://lichess.org/training/oQ8lF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oQA8d', 'Blitz', 'uditnajdorff', 1730, 'ozkanpakel34', 1750, 'e4,c6,d4,d5,e5,Bf5,c3,e6,Nf3,Nd7,Be2,c5,O-O,cxd4,cxd4,Bb4,a3,Ba5,Nbd2,Ne7,Nb3,Bb6,Bd2,O-O,Bb4,Rc8,Rc1,h6,Nc5,Nxc5,dxc5,Bc7,Bc3,Nc6,Nd4,Nxe5,Nxf5,exf5,b4,Ng4,f4,Ne3,Qd3,Nxf1,Rxf1,Qd7,Qg3,g6,Qh4,Kh7,Rf3,Bd8', 'Qxh6+,Kxh6,Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/oQA8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oqaMA', 'Blitz', 'kalinchick', 2198, 'acropoly78', 1898, 'Nf3,d5,d4,e6,c4,Nf6,Nc3,c6,g3,Nbd7,Bg2,Be7,O-O,O-O,Ne5,dxc4,Nxc4,Re8,e4,Nf8,h3,b6,Be3,Bb7,Qe2,a5,a4,Bb4,Rad1,Ba6,b3,Bxc3,Qc2,Bb4,Kh2,Qc7,f4,Rac8,Rf2,c5,e5,Nd5,Bxd5,exd5,Nd6,c4,Nxe8,Rxe8,bxc4,Bxc4,f5,Qd8,Qc1,Bb3,Rg1,Bxa4,g4,Be7,g5,Qb8,Bf4,b5,f6,Bd8,fxg7,Ng6,Bg3,Qc7,h4,Qxc1,Rxc1,Be7,h5,Bxg5,Rc7,Nh4,Rfxf7,Bc2,e6,Bd1,Bd6,Bxh5', 'Rf8+,Rxf8,gxf8=Q#', 'https://lichess.org/training/oqaMA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oqAz0', 'Classical', 'nardaco', 1743, 'squatchy', 1734, 'e4,c5,Nf3,g6,Nc3,Nc6,h3,Bg7,a3,Nf6,Be2,b6,O-O,Bb7,d3,O-O,Be3,d5,e5,Nd7,d4,cxd4,Bxd4,Nxd4,Qxd4,e6,Bd3,Qc7,Rfe1,Nc5,Qe3,Rad8,Nb5,Qb8,Nd6,Ba8,Qf4,Nb7,Nb5,a6,Nc3,b5,Ne2,Nc5,Qe3,Qb7,Ng3,d4,Qe2,Qc7,Ne4,Nxe4,Bxe4,Qc4,Bxa8,Rxa8,Rad1,Rac8,Nxd4,Rfd8,c3,Rd5,Nf3', 'Qxe2,Rxe2,Rxd1+', 'https://lichess.org/training/oqAz0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OQBMB', 'Rapid', 'ario', 1915, 'sobels', 2123, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bxb5,Qxd5,Bxc6+,Qxc6,O-O,Bb7,Nf3,g5,Nc3,g4,Re1,gxf3,Rxe5+,Be7,d3,Rg8,g3,Ng4,Re4,Qg6,Qxf3,Bxe4,Nxe4,Ne5,Nf6+,Qxf6,Qxa8+,Kd7,Qxg8,Nf3+,Kg2,Ne1+,Kf1,Nxc2,Qg4+,Kd8,Rb1,h5,Qf4,Qg6,Qd2,Nd4,b3,Qg4,Bb2', 'Qh3+,Ke1,Nf3+', 'https://lichess.org/training/OQBMB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OQBQh', 'Rapid', 'MarcoNori', 1640, 'smartvik72', 1768, 'c4,Nf6,Nc3,c5,d3,d6,Nf3,g6,g3,Bg7,Bg2,Qa5,Qc2,Nc6,a3,Nd4,Qa4+,Qxa4,Nxa4,Nb3,Rb1,O-O,O-O,Ng4,Bd2,Bd7,Nc3,Ne5,Nxe5,Bxe5,Rfd1,Rab8,Nd5,e6,Nc7,a6,Bc3,Rbc8,Bxe5,dxe5,Nxe6,Bxe6,Bxb7,Rb8,Bxa6,Nd4,Rd2,Bh3,b4,cxb4,axb4,Ra8,b5,Rfb8,Rdb2,f5,f3,h5,Kf2,f4,gxf4,exf4,e3,fxe3+,Kxe3,Nf5+,Kf2,Rf8,b6', 'Rxa6,b7,Rb8', 'https://lichess.org/training/OQBQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OqCDI', 'Rapid', 'dmitriy8888', 1635, 'Matthias1373', 1646, 'e4,d5,exd5,Nf6,c4,e6,Qe2,Bc5,Nf3,O-O,d4,Bb4+,Bd2,Na6,a3,Bxd2+,Nbxd2,Re8,Ne5,exd5,c5,Bg4,f3,Bf5,Qb5,Rb8,Bd3,Bd7,Qb3,Nh5,O-O,c6,Qc2,Qg5,Bxh7+,Kf8,f4,Nxf4,Ndf3,Qe7,Nxd7+,Qxd7,Ne5,Rxe5,dxe5,Qg4,Qf2', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/OqCDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OQeQn', 'Blitz', 'OtherProtocol', 1700, 'khurbon', 1886, 'f4,e5,Nf3,e4,Ng5,d5,e3,h6,Nxf7,Kxf7,Qh5+,g6,Qe5,Bg7,d4,Bxe5,fxe5,c5,Bb5,Qa5+,Nc3,cxd4,exd4,a6,O-O+,Kg7,Be2,Nc6,a3,Nxd4,b4,Nxe2+,Kh1,Ng3+,hxg3,Qc7,Nxd5,Qxe5,Rb1,Qh5+,Kg1,Be6,Bb2+,Kh7,Nc7,Ne7,Nxe6,Nf5,Rf4,Nxg3', 'Rf7+,Kg8,Rg7#', 'https://lichess.org/training/OQeQn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OQF5G', 'Rapid', 'ronniak2', 2005, 'bams', 1722, 'd4,g6,e4,d6,Be3,Bg7,c3,c5,dxc5,Nf6,f3,O-O,cxd6,Qxd6,Qxd6,exd6,Nd2,Nc6,Ne2,h5,Nd4,Ne5,Be2,h4,O-O-O,a6,f4,Neg4,Bg1,Re8,h3,Nh6,Bf3,d5,e5,Nh5,Bxh5,gxh5,N2f3,Bd7,Bf2,b5,Nxh4,b4,cxb4,Rac8+,Kb1,Rc4,Rc1,Rxb4,Rhd1,Reb8,Rd2,Kh7,g3,f6,e6,Be8,Nhf5,Bg6,Ka1,Nxf5,Nxf5,Bxf5,Rxd5,Bxe6,Rd2,Bxh3,Rc7,Be6,Ba7,Re8,b3,Bf5,Bd4,Re1+,Kb2,a5', 'Bxf6,Kg6,Bxg7', 'https://lichess.org/training/OQF5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oQgeI', 'Classical', 'LukaDevno', 1648, 'forpal', 1686, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Be3,e5,Nf3,Nc6,Nbd2,Bb4,c3,Ba5,c4,Nf6,c5,Nxe4,Be2,Bb4,O-O,Nxc5,a3,Bxd2,Qxd2,Nb3,Qd5,Nxa1,Nxe5,Nxe5', 'Qxe5+,Qe7,Qxg7', 'https://lichess.org/training/oQgeI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OQi2f', 'Rapid', 'Miizdema', 1712, 'artsantiago', 1674, 'e4,c5,c4,g6,Nc3,Bg7,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,g3,Nf6,Bg2,Bb7,O-O,O-O,Bg5,c5,Bxf6,Bxf6,e5,Bxe5,f4,Bd4+,Kh1,Qc7,Nd5,Qa5', 'Nxe7+,Kg7,Bxb7', 'https://lichess.org/training/OQi2f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oqi8Z', 'Rapid', 'ngerman1', 1994, 'SpecialCereal', 1917, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,Nbd2,Bg4,Nf1,O-O,Bb3,h6,Ng3,a6,Qe2,Re8,h3,Be6,Nh2,b5,Qf3,Kh8,Ng4,Nh7,Bxe6,fxe6,Nxh6,Qe7,Ng4,Rf8,Qe2,Nf6,Be3,Bxe3,Qxe3,d5,Qg5,Nh7,Qh5,Qf7,Qxf7,Rxf7,exd5,exd5,f3,a5,h4,Nf6,Nxf6,Rxf6,Nh5,Rh6,g4,b4,c4,dxc4,dxc4,Nd4,Kf2,Rf8,Rh3,g6,Ng3,Rxf3+,Kg2,Kg7,Rf1,Rxf1,Nxf1,Rh8,Ne3,Ne2,Kf3', 'Ng1+,Ke4,Nxh3', 'https://lichess.org/training/Oqi8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oQkvO', 'Blitz', 'Suso1984', 1937, 'Lord_Lich', 1935, 'e4,e6,Nf3,b6,Bc4,Bb7,d3,Nf6,O-O,d5,exd5,Bxd5,Bxd5,exd5,c3,Be7,d4,O-O,Bg5,h6,Bh4,Re8,Re1,Ne4,Bxe7,Rxe7,Nbd2,Nxd2,Rxe7', 'Nxf3+,Qxf3,Qxe7,Qxd5,c6', 'https://lichess.org/training/oQkvO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OQkWp', 'Rapid', 'Hussein_9292', 1806, 'Lycander', 1824, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bb5,Bd7,Be3,e6,Qf3,a6,Bd3,Be7,O-O-O,Ne5,Qg3,Nxd3+,Rxd3,e5,Nf5,Bxf5,exf5,e4,Rd2,b5,Bg5,h6,Bxf6,Bxf6,Rxd6,Bg5+,Kb1,Qe7,Re1,Bh4,Qxg7,Bf6,Qxh8+,Bxh8,Rxe4,Be5,Rxh6,f6', 'Rh8+,Kd7,Rxa8', 'https://lichess.org/training/OQkWp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oqkzp', 'Rapid', 'ferrucciolari', 1786, 'kprakash', 1680, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,d4,exd4,cxd4,O-O,Nc3,d6,h3,a6,a4,a5,O-O,Nb4,Re1,b6,Bd2,Bb7,d5,Na6,e5,dxe5,Nxe5,Nxd5,Nxd5,Bxd5,Bb5,Bf6,Bc3,Nc5,Qc2,Bxe5,Bxe5,c6,Bf1,Bb3,Qc3,f6,Bd4,Qd5,Bxc5,bxc5,Ra3,c4', 'Rxb3,cxb3,Bc4,Kh8,Bxd5', 'https://lichess.org/training/oqkzp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OQLvS', 'Rapid', 'erwanduveau', 2178, 'claudefics', 1976, 'd4,Nf6,Nc3,g6,h4,h5,Bf4,Bg7,f3,b6,Qd2,c5,d5,Bb7,d6,Nc6,dxe7,Qxe7,O-O-O,d5,Nb5,Rd8,Nc7+,Kf8,Nb5,Kg8,e3,Kh7,Nh3,Rhe8,Ng5+,Kg8,Be2,d4,Bc4,Nd5,Bxd5,Rxd5,e4,Rd7,g4,hxg4,h5,gxf3,hxg6,fxg6,Qh2,Ne5,Qh7+,Kf8,Bxe5,Qxe5,Qxg6,Bxe4,Qh5,Bxc2,Qxf3+,Bf5,Nh7+,Kg8,Rdg1,Bxh7,Rxh7,Kxh7,Qh3+,Kg8,Qxd7,d3', 'Rxg7+,Qxg7,Qxe8+', 'https://lichess.org/training/OQLvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OQmeh', 'Blitz', 'Ruben_Odendaal', 1676, 'DefinitelyHuman', 1754, 'd4,d5,Nf3,Nf6,Bg5,Bg4,e3,h6,Bh4,e6,Bd3,Be7,Nbd2,Nc6,c3,O-O,h3,Bxf3,Qxf3,a6,e4,dxe4,Nxe4,Nxe4,Bxe7,Qxe7,Qxe4,f5,Qf3,e5,Qd5+,Kh8,dxe5,Nxe5,O-O,Nxd3,Qxd3,Rad8,Qf3,Qc5,Qxb7,Rb8,Qxa6,Rxb2,Qd3,Rfb8,Rfb1', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/OQmeh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OqnqT', 'Blitz', 'AZLZ', 1576, 'capablanca0221', 1585, 'c4,e6,d4,b6,Nc3,Bb7,Nf3,Ne7,Bg5,h6,Bf4,Ng6,Bg3,Bb4,Qc2,Bxc3+,Qxc3,Nc6,d5,Nce7,Qxg7,Rg8,Qxh6,Nf5,Qd2,Nxg3,fxg3,Qf6,e4,O-O-O,Bd3,Ne5,O-O,Nxd3,Qxd3,Qxb2,Nd4,e5,Nb5,a6,Nc3,Qa3,Rab1,Qc5+,Kh1,Rh8,Rxf7', 'Rxh2+,Kxh2,Rh8+,Rh7,Rxh7#', 'https://lichess.org/training/OqnqT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OqNSD', 'Blitz', 'IM www68', 2544, 'N1k1taM', 2505, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,a6,Bb3,Ba7,h3,h6,Be3,O-O,O-O,d5,Bxa7,Rxa7,exd5,Nxd5,Re1,Re8,d4,e4,Nbd2,Bf5,Ne5,Nxe5,dxe5,e3,Bxd5,exf2+,Kxf2,Qxd5,Nf3,Qb5,Qe2,Bd3,Qd2,Raa8', 'Nd4,Qb6,Qxd3', 'https://lichess.org/training/OqNSD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OQNxe', 'Rapid', 'Emma03', 2103, 'TS_085', 2051, 'e4,Nc6,d4,d6,Nf3,Nf6,Nc3,g6,Be3,Bg7,Bd3,O-O,Qd2,Ng4,h3,Nxe3,Qxe3,e5,d5,Nd4,O-O-O,c5,dxc6,bxc6,h4,a5,h5,Bg4,hxg6,fxg6,Bc4+,Kh8,Rh2,h5,Rdh1,Bxf3,gxf3,Nxf3', 'Rxh5+,gxh5,Rxh5+,Bh6,Qxh6#', 'https://lichess.org/training/OQNxe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oQoqO', 'Blitz', 'Arthur02Monici20', 1734, 'duende31', 1726, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,Nf6,Bg5,Nbd7,Ne4,Be7,Nxf6+,Nxf6,c3,O-O,Bd3,a6,Qc2,b5,Bxf6,Bxf6,Bxh7+,Kh8,Be4,Rb8,h4,Bb7,Ng5,Kg8,Bxb7,g6,Bf3,Bxg5,hxg5,Qxg5,Rh3,Kg7,Bh5,Rh8,Bxg6,fxg6,Rg3', 'Rh1+,Ke2,Qh5+,f3,Rxa1', 'https://lichess.org/training/oQoqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oqosW', 'Rapid', 'Quiquin', 1822, 'BaltazarN', 1891, 'e4,c5,f4,d5,exd5,Nf6,c4,e6,Nf3,exd5,d4,Nc6,Nc3,dxc4,Bxc4,cxd4,Nb5,Qe7+,Qe2,Qxe2+,Bxe2,Bb4+,Bd2,Bxd2+,Nxd2,Kd8,Kf1,a6,Nd6,Be6,Nxb7+,Kc7,Nc5,Nd5,Nxa6+,Kb6,b4,Rxa6,b5,Ra3,bxc6,Kxc6,Nc4,Rc3,Ne5+,Kd6,Kf2,Nxf4,Nf3,Nxe2,Kxe2,Ra8,Rhd1,Bc4+,Kf2,d3,a4,f6,a5,Kc5,Nd2,Rc2,Kg3,Be6,a6,Kb6,Nb3,Rc4,Rxd3,Rg4+,Kf3,Rh4,h3,Bxb3,Rc3,Bf7,a7,Rc4,Re3,Rc5,Re7,Rc7', 'Rb1+,Kc6,Rc1+', 'https://lichess.org/training/oqosW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oQOvK', 'Classical', 'jaquefrate', 1798, 'cansrv', 1668, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,h3,Nf6,Nc3,a6,a3,b5,Ba2,b4,axb4,Nxb4,Bc4,d6,O-O,Rb8,Be3,Bxe3,fxe3,d5,exd5,Nbxd5,Nxd5,Nxd5,b3,Nxe3,Qe2,Nxf1,Qxe5+,Qe7,Qxg7,Rf8,Re1,Be6,Kxf1,Rb6,Nd4,Kd8,Nxe6+', 'fxe6+,Qxf8+,Qxf8+', 'https://lichess.org/training/oQOvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OqP0u', 'Classical', 'thedriveee', 1688, 'Zupmm', 1773, 'e4,e6,d4,d5,e5,c5,Qg4,Nh6,Bxh6,gxh6,Nf3,f5,Qh5+,Kd7,Bb5+,Kc7,dxc5,Bd7,Nd4,Bxc5,Bxd7,Qxd7,Nb3,Bb4+,c3,Be7,Qxh6,Nc6,Qe3,Rag8,g3,Kb8,N1d2,h5,Nf3,b6,Nfd4,Bg5,Nxc6+,Qxc6,f4', 'd4,Qxd4,Qxh1+', 'https://lichess.org/training/OqP0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oQpuz', 'Classical', 'fifarafa', 1970, 'szombath', 1991, 'b4,e5,Bb2,d6,e4,g6,Nf3,Nf6,Nc3,Bg7,d4,exd4,Nxd4,O-O,Bd3,Re8,O-O,d5,Nf3,dxe4,Bxe4,Qxd1,Raxd1,Nxe4,Nxe4,Bxb2,c3,Rxe4,Rd8+,Kg7,Rxc8,Bxc3,Rxc7,Nc6,Rc1,Bxb4,Rxb7,Nd4,Rcc7,Nxf3+,gxf3,Rf4,Kg2,a5,Kg3,g5,h4,h6,hxg5,hxg5,Rb5,Kg6,Rc6+,f6,Rb7,Rf5,Rd7,Rg8,Rcc7,Bd2,Rxd2,Re5,Ra7,Kf5,Rd3,g4,f4,Rc5,Ra3,Rh8,R7xa5,Rh3+,Kg2,Rxa5,Rxa5+,Kxf4,a4,f5,Ra8,Ra3,a5,Ra2,Ra6', 'g3,Rb6,Rxf2+', 'https://lichess.org/training/oQpuz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OqqFJ', 'Rapid', 'POLIN7', 1864, 'Djvanmukta', 2004, 'e4,c5,f4,Nc6,Nf3,Qc7,e5,e6,Bc4,d5,exd6,Bxd6,O-O,Bxf4,d3,Bxc1,Qxc1,h6,Nc3,a6,a4,Nf6,Qe3,b6,Rad1,O-O,Ne4,Nxe4,dxe4,Bb7,g4,Ne5,Nxe5,Qxe5,Bd3,Qd4,Qxd4,cxd4,Rf2,e5,Rdf1,f6,h4,Bc6,b3,b5,a5,b4,g5,hxg5,hxg5,fxg5,Rxf8+,Rxf8,Rxf8+,Kxf8,Bxa6,Bxe4,Bd3,Bc6,a6,Ke7,a7,Kd7', 'Bb5,Bxb5,a8=Q', 'https://lichess.org/training/OqqFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oQSf1', 'Rapid', 'AIBetA', 1700, 'alex8101949', 1680, 'e4,e5,Nf3,Qf6,Bc4,Bc5,O-O,c6,Nc3,a5,d3,b5,Bg5,Qg6,Nxe5,Qxg5,Bxf7+,Ke7,d4,Ba7,f4,Qf6,g4,Qh4,f5,d6,Bxg8,Rxg8,Kh1,dxe5,dxe5,Nd7,f6+,gxf6,exf6+,Nxf6,e5,Nxg4', 'Qd6+,Ke8,Qxc6+,Bd7,Qxa8+,Bb8,Qxb8+', 'https://lichess.org/training/oQSf1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OqVbK', 'Rapid', 'jpmolarin', 2160, 'Herson12', 2156, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,c3,Nf6,Qe2,Qe7,f5,O-O-O,h3,Bxf3,Qxf3,g5,Bd5,Nxd5,exd5,Nb8,f6,Qd7,Qg4,Qxg4,hxg4,Nd7,d3,h6,Bxg5,Re8,Nd2,Nc5,Ke2,e4,d4,Nd3,b3,c5,dxc5,dxc5,Nxe4,Rxe4+,Kxd3,Rxg4,Be3,Rxg2,Rae1,h5,Bf4,Rg4,Re4,h4,Rhe1,h3,Rh1,Kd7,Ke3,Bh6,Re7+,Kd8,Bxh6,Rxh6,Rxf7,Ke8,Rxb7,h2,f7+,Kf8,Rf1,Rh3+,Kd2,Rg2+,Kc1,Rxc3+,Kb1,Rf3,Rb8+,Ke7,f8=Q+,Rxf8,Rbxf8', 'Rg1,Kb2,h1=Q', 'https://lichess.org/training/OqVbK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oqvq3', 'Rapid', 'Texmurphy', 1654, 'Anibille', 1616, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,a6,Ba4,Bd7,d4,b5,Bc2,exd4,cxd4,h6,O-O,Nf6,Re1,Be7,Nc3,Bg4,Qd3,Nb4,Qe2,Bxf3,gxf3,O-O,Bb1,d5,a3,Nc6,Qd3,dxe4,fxe4,Qd7,Nd5,Qg4+,Kh1,Qd7,Nxf6+,Bxf6,e5,Rfe8,Qh7+,Kf8,Qh8+,Ke7,exf6+', 'Kxf6,Qxe8,Rxe8', 'https://lichess.org/training/Oqvq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oqvQC', 'Rapid', '104kg', 1843, 'seint', 1720, 'b4,e5,Bb2,d6,e3,Nc6,b5,Nb4,a3,Nd5,c4,Nb6,a4,a5,d3,Nf6,Nd2,Be7,Nb3,O-O,Bc3,d5,Bxe5,Bb4+,Nd2,dxc4,dxc4,Nxc4,Bxc4,Be6,Bxe6,fxe6,Nf3,Ne4,Qc2,Rxf3,gxf3,Nxd2,Bc3,Nxf3+,Ke2,Bxc3,Qxc3,Qd5,Rad1,Qh5,Rd7', 'Ne5+,Kd2,Nxd7', 'https://lichess.org/training/oqvQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OQvsI', 'Rapid', 'Acerb8', 1614, 'sixth-may', 1611, 'e4,e5,Nf3,g6,Nxe5,Bg7,d4,Nf6,Nc3,Nc6,Bc4,O-O,Bg5,d6,Nxc6,bxc6,O-O,Be6,d5,cxd5,Bxd5,Bxd5,exd5,Re8,Re1,Qd7,Rxe8+,Rxe8,Qd4,Ng4,Qxa7,Qf5,Bh4,Qxc2,Qxc7,Qxb2,Rb1,Qd2,h3,Nh6,Be7,Bxc3,Rb8,Qe1+,Kh2,Qe5+', 'g3,Qxe7,Qxe7', 'https://lichess.org/training/OQvsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OQWmK', 'Rapid', 'cutken', 1711, 'snegovik2', 1695, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,d6,b4,Bb6,d4,Bg4,Be2,Bxf3,Bxf3,exd4,b5,Na5,cxd4,Qd7,a4,O-O-O,Bg4,f5,exf5,Kb8,f6,Nf5,Qd3,g6,Bxf5,gxf5,Bh6,Rdg8,Bg7,Rxg7,fxg7,Qxg7,Nd2,Bxd4,Rac1,Rg8,g3,f4,Nf3,fxg3,Qxd4', 'gxh2+,Kh1,Qg2#', 'https://lichess.org/training/OQWmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OqyOp', 'Rapid', 'denayfl', 1818, 'fantakupa', 1805, 'b3,d5,Bb2,d4,e3,dxe3,fxe3,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,e6,Qxb7,Nbd7,Bb5,Rb8,Bxd7+,Nxd7,Qxa7,Nc5,O-O', 'Ra8,Qxa8,Qxa8', 'https://lichess.org/training/OqyOp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Or1bZ', 'Rapid', 'Zamejski_Scum', 1802, 'lelephant', 1774, 'e4,e5,Nf3,Nc6,d4,d5,dxe5,dxe4,Nfd2,Bc5,Nc3,Nxe5,Ncxe4,Qd4,Nxc5,Qxc5,Be2,Nf6,O-O,O-O,Nf3,Bg4', 'Nxe5,Bxe2,Qxe2', 'https://lichess.org/training/Or1bZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oR2ky', 'Classical', 'Pgermanio90', 1685, 'URBAN_NINJA_MAX', 1615, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,dxc4,e4,h6,Bxf6,Qxf6,Bxc4,Bb4+,Nc3,Nc6,e5,Qf4,O-O,Nxd4,Nxd4,Qxe5,Qa4+,Kf8,Qxb4+,c5,Qa3,Qxd4,Rad1,Qxc4,Rd8+,Ke7,Rxh8,b6,Na4', 'Ba6,Rb1,Rxh8', 'https://lichess.org/training/oR2ky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oR5a0', 'Rapid', 'Cubala_artisto', 1972, 'Arrawostmmos', 2086, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,g3,f6,exf6,Nxf6,Bg2,Bg4,O-O,Qd7,a3,O-O-O,b4,Bh3,Bf4,h6,b5,Na5,Ne5,Qe6,Qa4,b6,Nc6,Nxc6,bxc6,Bxg2', 'Qa6+,Kb8,Qb7#', 'https://lichess.org/training/oR5a0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Or5tQ', 'Rapid', 'Aleksey12061990', 2119, 'alabamovcrime', 2409, 'e4,Nc6,Nf3,Nf6,e5,Ng4,d4,d6,h3,Nh6,exd6,Qxd6,c3,Bf5,Bb5,a6,Ba4,e6,O-O,O-O-O,Bxc6,Qxc6,Ne5,Qd5,Qe2,Kb8,Be3,f6,Bxh6,fxe5,Be3,Be7,Re1,Rhf8,dxe5,c5,Na3,Qxe5,Nc4,Qc7,a4,Rd5,a5,Bd3,Qg4,Bxc4,Qxc4,Qe5,Bxc5', 'Rxc5,Rxe5,Rxc4', 'https://lichess.org/training/Or5tQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('or6qN', 'Rapid', 'dionysusus', 1898, 'rafaldb7', 1858, 'e4,e5,Nc3,Nc6,Bc4,Nf6,f4,d6,Nf3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,Be7,Ne2,Nxe4,Nxd4,Bh4+,Kf1,Ng3+,Kg1,Nxh1,fxe5,Bf2+,Kxh1,Bxd4,e6,d5,exf7+,Kf8,Bb3,c6,d3,Qd7,Bf4,Qxf7,Qg4,h5', 'Bd6+,Kg8,Qxd4', 'https://lichess.org/training/or6qN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OR6RF', 'Rapid', 'nayf', 1828, 'timeplay23', 1950, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,e4,d6,Bd3,Nc6,a3,e5,d5,Nd4,Nxd4,exd4,Ne2,Re8,Qc2,c5,dxc6,bxc6,b4,c5,O-O,Bb7,f3,Nd7,Nf4,Ne5,Nd5,Bxd5,cxd5,cxb4,axb4,Qb6,b5,Rac8,Qe2,Nxd3,Qxd3,Rc3,Qb1,d3+,Kh1,Rc2,Ra6,Qc5,Bf4,Be5,Bxe5,dxe5,Rd1,d2', 'Rc6,Rc8,Rxc5', 'https://lichess.org/training/OR6RF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Or7Kk', 'Rapid', 'm4gnir', 1611, 'NHorde', 1697, 'd4,d5,c4,e6,g3,Nf6,Bg2,Bb4+,Bd2,Be7,Nf3,b6,O-O,O-O,Nc3,Bb7,Bf4,Nbd7,Qc2,c5,cxd5,Nxd5,Nxd5,Bxd5,dxc5,Bxc5,Rfd1,Rc8,Ng5', 'Bxf2+,Kxf2,Rxc2', 'https://lichess.org/training/Or7Kk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oR8As', 'Blitz', 'michaelstrnad', 1540, 'Jokermaf', 1656, 'd4,d5,c4,Nf6,Nc3,e6,cxd5,exd5,Bg5,c6,e3,h6,Bh4,Be7,Bd3,O-O,Nge2,Bg4,O-O,Nbd7,Qc2,Qc7,f3,Be6,Rf2,Bd6,Bg3,Rae8,Bxd6,Qxd6,Ng3,Nb6,Raf1,Nc4,Bxc4,dxc4,Qd2,b5,a3,a5,e4,b4,axb4,axb4,Nce2,Nd7,f4,Bg4,e5,Qd5,f5,Nxe5,f6,Nd3,fxg7,Nxf2,gxf8=Q+,Rxf8,Rxf2,Re8,Qxh6,Bxe2,Rxe2,Qxd4+,Rf2', 'Re1+,Nf1,Rxf1+,Kxf1,Qd1#', 'https://lichess.org/training/oR8As');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('orabF', 'Rapid', 'CeperaKupoB', 1927, 'mr_Jaykes', 1993, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be3,c6,Bc4,Qb6,Bb3,O-O,O-O,a6,e5,Ne8,e6,Bxe6', 'd5,Qc7,dxe6', 'https://lichess.org/training/orabF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oRAfD', 'Classical', 'Dheeraj2086', 1709, 'irenereilly', 1802, 'd4,d5,Nc3,Nf6,b3,Bf5,Bb2,Nc6,e3,Nb4,Bd3,Nxd3+,cxd3,e6,e4,dxe4,dxe4,Nxe4,Nxe4,Bxe4,f3,Bb4+,Ke2,Bc6,Qd3,a6,Qc2,Qg5,Kf1,O-O-O,Ne2,h5,Kf2,Bb5,Rhd1,Qh4+,Ng3,Qxh2', 'Rh1,h4,Rxh2,hxg3+,Kxg3', 'https://lichess.org/training/oRAfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OrAkE', 'Blitz', 'MChessmOn', 1772, 'Arinze333', 1798, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d6,c3,Be7,O-O,O-O,Nbd2,Be6,Bb3,Bxb3,Qxb3,Kh8,Qxb7,Qd7,Qb3,Nh5,Nc4,f5,exf5,Qxf5,Qc2,d5,Ne3,Qf7,b4,Rae8,Bb2,e4,dxe4,dxe4,Nd2,Qg6,Nxe4,Bd6,Nxd6,Qxd6,Rad1,Qf4,Nd5,Qf7,Qb3,Nf4,Nxf4,Qxf4,c4,Re2,Bxg7+,Kxg7,Rd7+,Kh8,Qh3', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/OrAkE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oRaUS', 'Classical', 'AACtrl', 1831, 'jack1942', 2082, 'e4,d6,d4,Nf6,Bd3,e5,dxe5,dxe5,Nf3,Bd6,O-O,O-O,Nc3,Bg4,h3,Bh5,Bg5,c6,Bc4,Bc7,Qxd8,Rxd8,Bxf6,gxf6,g4,Bg6,Rfd1,b5,Rxd8+,Bxd8,Rd1,Na6,Bb3,b4,Na4,Bxe4,Nh4,Be7,f3,Bg6,Nxg6,hxg6,Rd7,Kf8,Rb7,Rd8,Rxa7,Nc5,Nxc5', 'Bxc5+,Kf1,Bxa7', 'https://lichess.org/training/oRaUS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OrCGl', 'Blitz', 'myzaza', 1559, 'Dilmun', 1555, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,Nc6,Nf3,a6,Bc4,Nb6,Bb3,d6,Bxf7+,Kxf7,Ng5+,Kg8,Qf3,Qe8,e6,h6', 'Qf7+,Qxf7,exf7#', 'https://lichess.org/training/OrCGl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ORDbe', 'Rapid', 'catalan_pleb', 2091, 'dubovik', 2057, 'd4,Nf6,Nf3,d5,c4,Nc6,e3,Bf5,Nc3,e6,Qa4,Qd7,Bd2,O-O-O,c5,a6,b4,Ne4,b5,Nxc3,Bxc3,Nb8,Ne5,Qe8,Rb1,f6,bxa6,Qxa4', 'axb7#', 'https://lichess.org/training/ORDbe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oRdoU', 'Rapid', 'chess_backpacker', 1876, 'TheBeginner123', 1793, 'e4,d6,d4,Nf6,Nc3,c6,Bg5,Qa5,Bxf6,gxf6,a3,Rg8,g3,Bg4,Be2,Bxe2,Qxe2,Nd7,Nf3,Qb6,b4,c5,Qc4,Rc8,Nd5,Qc6,b5,Nb6,Nxb6', 'Qxe4+,Qe2,Qxe2+,Kxe2,axb6', 'https://lichess.org/training/oRdoU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('org8q', 'Rapid', 'UKITA66', 1946, 'zealfredo', 1826, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,dxe5,fxe5,Nc6,Nf3,Bf5,a3,e6,Nc3,Be7,Be2,O-O,O-O,f6,b4,fxe5,dxe5,Nd7,Bf4,g5,Bg3,g4,Nd4,Ncxe5,Nxf5,exf5,Qd5+,Kg7,Bxe5+,Nxe5,Qxe5+,Bf6,Qxf5', 'Bd4+,Kh1,Rxf5', 'https://lichess.org/training/org8q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('orIgn', 'Rapid', 'Swakopmund', 2142, 'DEP44', 2347, 'd4,Nc6,d5,Ne5,e4,e6,f4,Ng6,c4,Bc5,Nf3,exd5,cxd5,d6,Nc3,Nf6,f5,Ne5,Nxe5,dxe5,Qf3,c6,Bg5,cxd5,Bxf6,gxf6,Nxd5,Qa5+,Qc3,Qxc3+,bxc3,O-O,Nxf6+,Kg7,Nd5,Rd8,c4,b6,Bd3,Bb7,Ke2,Bxd5,cxd5,h5,a4,Kf6,Rac1,Rg8,g3,h4,Kf3,Rg7,g4,Kg5,h3,f6,Bb5,a5,Rhd1,Rd8,Rc4,Rd6,Rdc1,Rc7,Bc6,Kh6,Rxc5,bxc5,Rxc5,Ra7,Bb5,Kg5,Rc8,Kh6,Ke3,Rb6,Rh8+,Kg7,Rc8,Kh6,Rc6,Rxc6,Bxc6,Rc7,Kd3,Kg5,Kc4,Kf4,Kb5,Kg3,d6,Rc8,d7,Rb8+,Ka6,Kxh3,g5,Kg2,g6,h3,g7,h2,Bd5,h1=Q,g8=Q+,Rxg8,Bxg8,Qd1', 'Bd5,Qxa4,d8=Q', 'https://lichess.org/training/orIgn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ORJqi', 'Rapid', 'oven12', 1874, 'Noob_Philosopher', 1775, 'f4,g6,Nf3,Bg7,e4,Nf6,e5,Nh5,d4,O-O,Be2,f6,O-O,fxe5,fxe5,d6,c3,Nc6,Nbd2,dxe5,Nxe5,Nxe5,Rxf8+,Qxf8,Bxh5,gxh5,dxe5,Bg4,Nf3,Bxe5', 'Qd5+,e6,Qxe5', 'https://lichess.org/training/ORJqi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('orlcQ', 'Classical', 'sharath645', 1814, 'ugraSA', 1766, 'd4,d5,Nc3,e6,a3,c5,Nf3,Nc6,e3,a6,Bd3,Nf6,h3,cxd4,exd4,Bd6,O-O,h6,Re1,O-O,Be3,b5,Qd2,Re8,Bxh6,gxh6,Qxh6,Bf8,Qg5+,Bg7,Ne5,Nxe5,Rxe5,Nd7,Bh7+,Kxh7,Qh5+,Kg8,Rg5,Nf6,Qh6,Kf8,Rxg7,Ke7,Re1,Rg8,Nxd5+,Nxd5,Qg5+,Nf6,Qc5+,Qd6', 'Rxf7+,Kxf7,Qxd6', 'https://lichess.org/training/orlcQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('orlFH', 'Rapid', 'Maris-S', 1639, 'kostaskoltou', 1644, 'e4,e5,f4,exf4,Nf3,g5,Bc4,Be7,O-O,d6,d3,Bg4,b4,h5,Bb2,Rh7,h3,Bd7,Nbd2,g4,hxg4,hxg4,Nd4,Bf8,Rxf4,Qh4,Bxf7+,Rxf7,Rxf7,Kxf7,Qf1+,Ke8,Nf5,Bxf5,exf5,g3,Nf3,Qh5,f6,Kf7,Qe2,Qh6,Re1,Nxf6,Bxf6,Qxf6,Qe8+,Kg7,Rf1,Qe7,Qh5,Nd7,Qg4+,Kh8,Qxg3,Bg7,Re1,Qf6', 'Qh3+,Qh6,Qxd7', 'https://lichess.org/training/orlFH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oRlJj', 'Rapid', 'sprockets', 1610, 'Bizar28', 1633, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Ne7,Nc3,Nc6,Qe3,Bb4,a3,Bxc3+,Qxc3,O-O,Qg3,Qf6,Bg5,Qg6,Bd3,h6,Bf4,Qxg3,hxg3,Nd4,O-O-O,d6,Rh2,Bg4,f3,Be6,e5,Bf5,Bxf5,Nxf5,g4,dxe5,Bxe5,Ne3,Rdh1,Rfe8,Bc3,Kh7,g5,Nf5,g4,Ng3', 'Rxh6+,gxh6,Rxh6+,Kg8,Rh8#', 'https://lichess.org/training/oRlJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OROKD', 'Blitz', 'cuantikator', 2200, 'hasan_safiri', 1884, 'd4,Nf6,Bf4,d6,h3,g6,e3,Bg7,Nf3,c5,c3,cxd4,exd4,Nc6,Nbd2,O-O,Be2,Bf5,g4,Be4,Nxe4,Nxe4,Nd2,Nxd2,Qxd2,Rc8,O-O,e6,Rad1,e5,dxe5,dxe5,Qxd8,Rcxd8,Bg5,f6,Be3,h6,Bb5,f5,f4,exf4,Bxf4,fxg4,hxg4', 'Rxd1,Rxd1,Rxf4', 'https://lichess.org/training/OROKD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OrpCM', 'Blitz', 'NM nikonovenik', 2363, 'BadPremoves', 2279, 'd4,Nf6,c4,e6,Nc3,d5,e3,c6,Nf3,Bb4,Bd3,O-O,O-O,h6,Qe2,Re8,a3,Ba5,b4,Bc7,e4,e5,Nxe5,dxe4,Nxe4,Qxd4,Bb2,Qd8,Nxf6+,Qxf6,f4,Bf5,Ng4,Rxe2', 'Nxf6+,gxf6,Bxe2', 'https://lichess.org/training/OrpCM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('orpGF', 'Rapid', 'babrsia', 1659, 'Rockefellerx', 1603, 'd4,e6,c4,b6,e4,Bb7,Nc3,Bb4,a3,Bxc3+,bxc3,Bxe4,Qe2,Bb7,Nf3,h6,Ne5,d6,Nf3,Nf6,Be3,Qd7,g3,O-O,Bg2,Ne4,Qd3,d5,O-O,dxc4,Qxc4,Ba6,Ne5,Qe8,Qb3,Bxf1', 'Bxe4,Bh3,Bxa8', 'https://lichess.org/training/orpGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('orpVj', 'Bullet', 'bishnulimbu', 1699, 'FM rupeshjswl7', 2059, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,c5,O-O,Nc6,c3,c4,Bc2,Be7,Re1,O-O,Ne5,Qc7,f4,Re8,h3,b5,Be3,a5,Nd2,b4,Qf3,Rb8,Rab1,bxc3,bxc3,Ba3,g4,Bb2,Bf2,a4,g5,Nd7,Bxh7+,Kf8,Nxf7,Rxe1+,Rxe1,Nf6,gxf6,Qxf7,fxg7+,Qxg7+,Kh1,Qxh7,Kh2,Ne7,Rg1,Bf5,Qg3,Qf7,Be3,Bxc3,Nf3,Ba5,Ne5,Qe6', 'Qg7+,Ke8,Qh8+', 'https://lichess.org/training/orpVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('orq3R', 'Classical', 'PasiP', 2030, 'Gabby_Fischparov', 2201, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,Nc3,axb5,e4,b4,Nb5,d6,Bc4,Qa5,Nf3,Nbd7,O-O,Ng4,Bf4,Ba6,a4,bxa3,Nxa3,g5,Nxg5,Nge5,Bxa6,Qxa6,Qh5,Nf6,Qh3,Nd3,Nc2,Nxf4,Rxa6', 'Nxh3+,Nxh3,Rxa6', 'https://lichess.org/training/orq3R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ORQHj', 'Blitz', 'As_At', 1575, 'dizzycookie', 1636, 'e4,e6,e5,c5,Nf3,Ne7,Nc3,Nbc6,Bb5,Qc7,Bxc6,bxc6,O-O,f6,exf6,Nd5,fxg7,Bxg7,Nxd5,cxd5,d3,O-O,Ng5,Qe5,Qh5,h6,f4,Qf5,g4,Qf6,Nh3,c4,g5,Qd4+,Kg2,cxd3,gxh6,Bf6,Qg6+,Kh8,Ng5,Bxg5,fxg5', 'Qg4+,Kh1,Rxf1#', 'https://lichess.org/training/ORQHj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OrQic', 'Blitz', 'HA13423410', 1985, 'JordiBH', 2056, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Qg4,c5,c3,Qb6,Ngf3,Nc6,a3,h5,Qf4,Be7,h4,Na5,dxc5,Bxc5,b4,Bxf2+,Kd1,Nc6,Ng5,O-O,Ndf3,d4,c4,Nxb4,axb4,Qxb4,Bd3,Nc5,Bh7+,Kh8,Bd2,Qb3+,Ke2,Be3,Bxe3,dxe3,Nxf7+,Rxf7,Qxf7,Qxc4+,Kxe3,Kxh7,Ng5+,Kh6,Rad1,Bd7,Rhf1,Bb5', 'Rf6+,gxf6,Qxf6#', 'https://lichess.org/training/OrQic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ORQRa', 'Classical', 'AghasLiverpool', 1772, 'dorutaylan3', 1820, 'e4,d5,exd5,c6,dxc6,Nxc6,Nf3,e5,Nc3,Nf6,Bb5,Bd6,d3,O-O,Bg5,h6,Bh4,Re8,Ne4,g5,Nfxg5,hxg5,Bxg5,Be7,h4,Nxe4,dxe4,Qa5+,c3,Qxb5,Qf3,Be6,Qg3,Bxg5,hxg5,Qxb2,Rd1,Kf8,Qf3,Rad8', 'Rh8+,Ke7,Qf6#', 'https://lichess.org/training/ORQRa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('orR4o', 'Blitz', 'izmir2121', 2070, 'miro76', 2186, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Be3,Bf5,Qd2,Nf6,O-O-O,e6,Kb1,Bb4,Bd3,Nd5,Nge2,Bxd3,Qxd3,Nxc3+,Nxc3,Bxc3,bxc3,Nd7,c4,O-O-O,c5,Nxc5,Qc4,Na4,Rd3,Nb6,Qb3,Qd5,c4,Qxc4,Qa3,Kb8,Rc1,Qb5+,Rb3,Qf5+,Ka1,Rd5,Rcb1,Ra5,Qe7,Qc2,R3b2,Qc3,d5,Rxd5,Bxb6,axb6,Qxf7,Rd2', 'Qf4+,Kc8,Qxd2,Qxd2,Rxd2', 'https://lichess.org/training/orR4o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ORRZ5', 'Rapid', 'MKenny', 1896, 'souban7', 1884, 'c4,e5,g3,c6,d4,exd4,Qxd4,Bb4+,Nc3,Nf6,Bg2,O-O,Nf3,Be7,O-O,d6,Bf4,Be6,Rfd1,d5,cxd5,Bxd5,Nxd5,Nxd5,Qd2,Nxf4,Qxf4,Qb6,b3,Bf6,Rac1,Na6,Qc4,Nb4,a3,Nd5,e4,Nc7,a4,Rfe8,Rd7,Ne6,e5,Be7,a5,Qxa5,Rxb7,Ba3,Ra1,Qc5,Qa4,Bb2,Rd1,Rf8,Rdd7,Rad8,Qc4,Qxc4,bxc4,a5', 'Rxd8,Rxd8,Rxb2,Rd1+,Bf1', 'https://lichess.org/training/ORRZ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OrShX', 'Rapid', 'Morningstar007', 1800, 'AtFerhat', 1893, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,Bd3,O-O,O-O,d6,Bg5,a6,Nd5,Kh8,Nxf6,gxf6,Bh6,Rg8,Qh5,Qe7,c3,Bc5,Nxc5,dxc5,Bc4,Rg6,Rad1,Be6,Bd5,Bxd5,exd5,Nd8,Rfe1,b5,Be3,Nb7,f4,Rag8,g3,Nd6,fxe5,fxe5,Bxc5,f6,Qf3,Qc7,b4,Nf7,d6,Qd7,Kh1,Ng5,Qd5,Qh3,d7,Ne6,Rd3,Qg4,Bf2,h5,Rde3,h4,Rxe5,fxe5,Qxe5+,Ng7,Kg2,Qxd7,Bd4,hxg3', 'Qh5+,Rh6,Qxh6#', 'https://lichess.org/training/OrShX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ORtxC', 'Classical', 'negarnegar', 1626, 'Rich54321', 1645, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bf5,d3,Nc6,Be2,e5,O-O,Be7,Re1,Nd4,Nxd4,Qxd4,c3,Qd6,Qa4+,Bd7,Qb3,Qg6,Qxb7', 'Bc6,Qxc6+,Qxc6', 'https://lichess.org/training/ORtxC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('orvfw', 'Rapid', 'M_robson', 1776, 'Habib-Belkadi-77', 1751, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,d6,Bc4,Nf6,e5,dxe5,Qxd8+,Kxd8,Bxf7,Bf5,Bb3,c6,Nc3,Kc7,O-O,Bb4,Bd2,Rhd8,Rad1,Bxc3,Bxc3,Rxd1,Rxd1,Re8,Re1,e4,Bxf6,gxf6,h3,Bg6,Re3,f5,f3,f4,Rc3,e3,Kf1,e2+,Ke1,b5,a4,a6,Rc5,Kd6,Rg5,c5,axb5,axb5,c4,bxc4,Bxc4,Bc2,Rd5+,Kc6,Rd2,Bd1,Bxe2,Rxe2+,Rxe2,Bxe2,Kxe2,Kd5,Kd3,h5,h4,c4+,Kc3,Kc5,b3', 'cxb3,Kxb3,Kd4,Kb4,Ke3,Kc4,Kf2,Kd3,Kxg2', 'https://lichess.org/training/orvfw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('orvuF', 'Rapid', 'TorBar', 1702, 'coway', 1751, 'c3,e5,d4,exd4,cxd4,d5,Nf3,c6,a3,Bf5,Bg5,Be7,Bxe7,Qxe7,e3,Nf6,Nc3,Nbd7,Bd3,Bxd3,Qxd3,O-O,O-O,Ng4,h3,Ngf6,Rac1,Rfe8,b4,Ne4,Nd2,f5,Ndxe4,fxe4,Qc2,Qh4,b5,Re6,Qa2,Rg6,Kh1,Nf6,bxc6,bxc6,f3,Nh5,Nxe4,Kh8,Nc5,Ng3+,Kh2,Nxf1+,Rxf1,Re8,e4,dxe4,fxe4,Qg3+,Kh1,Qc3,Qf7,Rg8,Ne6,Qg3', 'Qxg8+,Kxg8,Rf8#', 'https://lichess.org/training/orvuF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oRWmO', 'Rapid', 'jayaram-bhat', 1814, 'SivaDatta', 1896, 'd4,d6,e4,Nc6,c4,e5,d5,Nd4,Nf3,Nxf3+,Qxf3,Nf6,Bd3,h6,Nc3,Bg4,Qg3,Qc8,O-O,Nh5,Qe3,Be7,h3,Bg5,Qe1,Bxh3,gxh3,Qxh3,f3,Nf4,Qd2,Qg3+,Kh1,Nxd5,Qg2,Qxg2+,Kxg2,Nf4+,Kg3', 'Nxd3,Bxg5,hxg5', 'https://lichess.org/training/oRWmO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Orx8P', 'Bullet', 'csurfer111', 1715, 'yosei2', 1720, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,Nc3,Nxc3,dxc3,Nc6,Bg5,Qxe2+,Bxe2,Be7,Bxe7,Nxe7,O-O,Be6,Nd4,O-O-O,Nxe6,fxe6,b4,e5,a4,Nd5,Ra3,h5,Bf3,Nf4,b5,g5,a5,g4,Be4,Rdf8,a6,b6,c4,h4,g3,Nh3+,Kg2,hxg3,fxg3,Ng5,Bf5+,Kd8,Bxg4,Ne4,Raf3,Rxf3,Rxf3,Ke7,h3,Nd2,Rc3,Rf8,Be2,Ne4,Rf3,Rxf3,Kxf3,Nc5,h4,Kf6,g4,e4+,Kf4,Ne6+,Kg3,Ke5,h5,Nf4,h6', 'Nxe2+,Kf2,Nf4,h7,Ng6', 'https://lichess.org/training/Orx8P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OrxJq', 'Rapid', 'chess_bruno96', 1727, 'Mike01chess', 1815, 'Nf3,d5,e3,c5,d3,Nc6,c4,dxc4,dxc4,Qxd1+,Kxd1,Bg4,Be2,Rd8+,Kc2,Bf5+,Kb3,e5,Nc3,Na5+,Ka4,b6,Nxe5,Bd6,Nf3,Bc2+,b3,a6,Nd5,Rb8,Bb2,Ne7,Nxe7,Bxe7,Bxg7,Rg8,Be5,Rb7,g3,Bd8,Rac1,Be4,Rhd1,b5+,cxb5,axb5+,Ka3,b4+,Kb2,f6,Rxd8+,Kxd8,Bxf6+,Ke8,Ne5,Rf8,Bh5+,Bg6,Bxg6+,hxg6,Ng4,Rd7,Rxc5,Rd2+,Kc1,Rxa2,Rc8+,Kf7,Nh6+,Kxf6,Rxf8+,Kg5,Nf7+,Kf6,f4,Ke7,Ra8', 'Nxb3+,Kd1,Rxa8', 'https://lichess.org/training/OrxJq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oRZ6Y', 'Rapid', 'shoguntango', 1662, 'anthony234', 1716, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,O-O,Nf6,Nc3,b5,Bb3,O-O,Nd5,d6,h3,Bb7,c3,Rb8,d4,exd4,cxd4,Ba7,Bg5,h6,Bh4,g5,Bg3,Nxe4,Re1,Nxg3,fxg3,Re8', 'Rxe8+,Qxe8,Nf6+,Kg7,Nxe8+', 'https://lichess.org/training/oRZ6Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oS0LW', 'Classical', 'A-Azez', 1739, 'andre_sp', 1661, 'e4,c5,Nf3,Nc6,Bb5,Qb6,Nc3,Nd4,a4,a6,Nxd4,cxd4,Nd5,Qd8,Bd3,e6,Nf4,g5,Nh3,h5,c3,Qb6,Nxg5,Be7,Nh3,e5,O-O,Nf6,f4', 'dxc3+,Kh1,cxb2', 'https://lichess.org/training/oS0LW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OS1tU', 'Rapid', 'Maba105', 1856, 'safak0731', 1874, 'd4,d5,Bf4,Nc6,e3,Nf6,Nd2,Bg4,Ngf3,Ne4,Be2,e6,Nxe4,dxe4,Nd2,Bxe2,Qxe2,Bb4,c3,Ba5,Nxe4,Nxd4,exd4,Qxd4,b4,Qb6,bxa5,Qxa5,O-O,O-O-O,Qc4,h6,Rfd1,g5,Be5,Qxe5,Rxd8+,Rxd8,f3,h5,h3,Qf5,Kf2,g4,hxg4,hxg4,Ke2,gxf3+,gxf3,Qh5,Rd1', 'Qh2+,Nf2,Rxd1,Kxd1,Qxf2', 'https://lichess.org/training/OS1tU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OS1Y6', 'Blitz', 'FM Kemur', 2419, 'GolovinLeonid', 2417, 'd4,d5,c4,Nc6,Nf3,Bg4,Nc3,e6,cxd5,exd5,Qb3,Bxf3,exf3,Nxd4,Qa4+,Nc6,Ba6,Qc8,O-O,Ne7,Re1,Rb8,Nxd5,Qd7,Nxe7,Bxe7,Bb5,O-O,Be3,a6,Bxc6,Qxc6,Qxc6,bxc6,b3,Ba3,Rad1,Rfd8,Bf4,Bd6,Be3,c5,Rc1,Rb5,Rc4,f5,Rec1,Re8,Kf1,Re5,R1c2,Rd5,f4,Kf7,Ke2,Ke6,Ra4,Rb6,Rac4,Rb5,Ra4,a5,g3,Kd7,Bd2,Rd4,Rxa5', 'Rxd2+,Rxd2,Rxa5', 'https://lichess.org/training/OS1Y6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('os28b', 'Rapid', 'Nanding53', 1841, 'Anay_27', 1813, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Nc3,Nc6,Nxc6,bxc6,O-O,O-O,Bd3,Qb6,Rb1,Rd8,h3,Ba6,Bxa6,Qxa6,a3,Rab8,Qf3,e5,Rfd1,h6,Bh4,Qc4,g4,Qe6,g5,hxg5,Bxg5,Nh7,Bxe7,Qxe7,Ne2,Ng5,Qf5,g6,Qg4,Kg7,Ng3,Rh8,h4,Ne6', 'Nf5+,Kf8,Nxe7', 'https://lichess.org/training/os28b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Os2BB', 'Rapid', 'Remistario', 2019, 'ASzilagyi', 2099, 'e4,e6,d4,d5,Nd2,c5,c3,dxe4,Nxe4,cxd4,cxd4,Be7,Nf3,Nf6,Bd3,O-O,Bg5,Bd7,Qc2,h6,Bh4,Bc6,Nxf6+,Bxf6,Bxf6,Qxf6,Be4,Bxe4,Qxe4,Nc6,O-O,Rfd8,Rfd1,Rac8,Ne5,Nxe5,dxe5,Rxd1+,Rxd1,Qe7,h3,Qc7,g4,a6,h4,b5,g5,hxg5,hxg5,Qc2', 'Rd8+,Rxd8,Qxc2', 'https://lichess.org/training/Os2BB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OS2oQ', 'Rapid', 'HanaPERU', 1739, 'timmae45', 1733, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,a6,Ba4,Bc5,d3,h6,Bxc6,bxc6,Nxe5,Bd4,Nf3,Bb6,Bd2,d5,exd5,cxd5,Qe2+,Be6,O-O,O-O,Ne5,Qd6,Bf4,Rae8,Qd2,Bf5,Ng6,Qb4,Nxf8,Rxf8,Rab1,Re8,a3,Qc5,Na4,Qc6,Nxb6,Qxb6,Qc3,c5,Qb3,Qc6,Rbe1,c4,Rxe8+,Nxe8,dxc4,dxc4,Qc3,Nf6,b3,Be6,Bxh6,gxh6,Qxf6,cxb3,cxb3,Kh7,f4,Qb6+,Kh1,Qxb3,Ra1,a5,Qe5,f6,Qxf6,Bd5,Qe7+,Kh8,Qe5+,Kh7,h3', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/OS2oQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Os3wf', 'Blitz', 'sarmat67', 1719, 'mario-ismael', 1729, 'c4,Nf6,Nc3,g6,e4,d6,d4,Bg7,f4,O-O,Nf3,c5,d5,Qa5,Bd2,Nbd7,Bd3,Re8,O-O,Nf8,Qc2,e5,fxe5,dxe5,a3,Bg4,Nb5,Qb6,b4,cxb4+,Kh1,bxa3,Rxa3,a6,Nc3,N6d7,Nd1,Nc5,Be3,Nfd7,Rb3,Qc7,h3,Bxf3,Rxf3,Nxd3,Qxd3,Nc5,Bxc5,Qxc5,Rxb7,a5,Rfxf7,Bh8,Rxh7,Rab8,Rbc7,Qd6,c5,Qf6,Ne3,Qf4,Ng4,Qc1+,Kh2,Qf4+,g3,Rb2+,Kh1', 'Qc1+,Qf1,Qxf1#', 'https://lichess.org/training/Os3wf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Os5JU', 'Rapid', 'Zimboy', 1922, 'rsrutin', 1890, 'e4,e5,Nc3,Nf6,g3,Nc6,Bg2,Bb4,Nge2,d6,O-O,Be6,d3,Qd7,Bg5,Bh3,f4,Bxg2,Kxg2,h6,Bxf6,gxf6,Nd5,Qd8,c3,Bc5,a4,a5,d4,Ba7,b4,exd4,b5,Nb8,cxd4,Nd7,Rc1,Bb6,Qb3,h5,e5,h4,exd6,h3+,Kh1,cxd6,Rfe1,O-O,Qf3,Qe8,Qg4+,Kh8,Qxh3+,Kg8,Qxd7,Qe4+,Kg1,Qxd5,Qg4+,Kh8,f5,Rfe8,Nf4,Bxd4+,Kf1', 'Qh1#', 'https://lichess.org/training/Os5JU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Os5nz', 'Rapid', 'ahmd11', 1974, 'waelkhalil', 1985, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,O-O,Be7,Kh1,O-O,f4,Nc6,Be3,Nd7,Qg4,Nc5,Nxc6,bxc6,Bxc5,dxc5,e5,c4,Bxc4,Bb4,Rad1,Qe7,Ne4,Rb8,c3,Ba5,b4,Bc7,Bd3,a5,Nf6+,Kh8,Nxh7,g6,Nf6,Kg7,Qg5,Bd8,Rf3,Rh8,Bxg6,fxg6,f5,exf5,Rg3,Qf7,Rxd8,Rxd8,Nh5+,Kh7,Qxd8,gxh5,e6,Qxe6,h4,axb4', 'Qc7+,Bd7,Qxb8', 'https://lichess.org/training/Os5nz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Os5RX', 'Rapid', 'Ifkaluva', 1733, 'ahmed05', 1740, 'e4,b6,d4,Bb7,Nc3,d6,d5,e6,Bb5+,Nd7,Nf3,exd5,exd5,Nf6,O-O,Be7,Bg5,O-O,Bd3,Nc5,Re1,Re8,h4,Nxd3,Qxd3,h6,Bxf6,Bxf6,Qf5,Bxh4', 'Rxe8+,Qxe8,Nxh4', 'https://lichess.org/training/Os5RX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Os8hG', 'Rapid', 'Polami', 1894, 'ClassicalCam', 2033, 'e4,c6,d4,d5,f3,g6,Nc3,Bg7,Be3,Nf6,e5,Nfd7,Qd2,O-O,h4,Na6,h5,c5,e6,fxe6,hxg6,cxd4,gxh7+,Kh8,Bxd4,e5,Bf2,Nf6,Bh4,Qb6,Nxd5,Qxb2,Rd1,Be6,Nxe7,Bf7,Bxf6,Bxf6,Nd5,Bxd5,Qxd5,Rad8,Qe4,Rxd1+,Kxd1,Rd8+,Ke2,Qc1,Kf2,Rd2+,Kg3,Nc5,Qc4,Qe1+,Kg4', 'Rd4+,Qxd4,exd4', 'https://lichess.org/training/Os8hG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OS8KA', 'Classical', 'shubhadeep8436', 1663, 'ndjurov', 1904, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,Bd2,Nxc3,bxc3,Be7,O-O,O-O,Re1,a6,Bc4,d5,Bb3,Na5,Bc1,Nxb3,Qxb3,Rb8,Ne5,Bg5,Be3,Bxe3,Rxe3,c6', 'Nxc6,bxc6,Qxb8', 'https://lichess.org/training/OS8KA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OS9KR', 'Rapid', 'KirubakaranK', 1707, 'tigranchiks', 1684, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Bg4,d4,Bxf3,Qxf3,Qf6,c3,g5,O-O,c6,e5,dxe5,dxe5,Qxe5,Bd2,Qc5+,Kh1,Qxc4,Re1+,Ne7,Na3,Qd5,Qg4,Qxd2,Nc4,Qd5', 'Qc8+,Qd8,Nd6#', 'https://lichess.org/training/OS9KR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oS9m9', 'Blitz', 'fil77', 1570, 'Balaganesan', 1645, 'd4,d5,e3,c6,c3,Qa5,f4,Bg4,Nf3,Bxf3,Qxf3,Nf6,Bd3,e6,Nd2,Na6,Nb3,Qb6,Qe2,h5,h3,Bd6,Qc2,Ne4,Bxe4,dxe4,Qxe4,Qc7,Bd2,O-O-O,c4,g5,c5,Be7,Ba5,b6,cxb6,axb6,Bc3,gxf4,exf4,Bh4+,Ke2,Bg3,Be1,Bxf4,Bd2,Bxd2,Nxd2,b5,a4,bxa4,Rxa4,Nb8,Rha1,Qb7,Qc2,Qb5+,Nc4,Rhg8,Kf2,Qf5+,Kg1,Qxc2,Nb6+,Kb7,Na8,Qxb2', 'Ra7+,Kc8,Rc7#', 'https://lichess.org/training/oS9m9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSaGX', 'Rapid', 'Lenflammeur7', 1659, 'silvestr18by', 1617, 'd4,c5,Nf3,e6,e4,d5,Nc3,c4,g3,Qa5,Bd2,Bb4,Bg2,b5,Ne5,Bd7,Nxd7,Nxd7,exd5,Bxc3,Bxc3,b4,dxe6,bxc3,exd7+,Kd8,b3,Rb8,Qg4,g6,d5,Nf6,Qd4,Qb6,Qxc3,Kxd7,bxc4,Rhe8+,Kd2', 'Qxf2+,Kc1,Qxg2', 'https://lichess.org/training/OSaGX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('osBzA', 'Rapid', 'serran1t0', 1985, 'Ermin007', 2015, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Nf3,g6,Bc4,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Qd7,Qf4,Nf6,O-O,Nc6,Be3,Bg7,Nd5,Rf8,Ne6,Rf7,Nec7+,Kf8,Nxa8,Nxd5,Qg3,Be5,Qh3,Qxh3,gxh3,Nxe3,fxe3,Bf6,Nc7,Nb4,Nd5,Nc6,Rab1,Ne5,b3,Kg7,Rbc1,Nc6,Nxf6,Rxf6,Rxf6,Kxf6,Kf2,Ke5,Kf3,h6,Rd1,Ke6,h4,a6,Kf4,Kf6,a3,Ne5,Rd2,Nc6,Rf2,Ne5,Kg3+,Kg7,Rc2,Nc6,Kf4,Kf6,Rc3,Ke6,Rc2,Kf6,Rg2,Ne5,Rd2,Ke6,Rd5,Nc6,h5,g5+,Kg4,Ne5+,Kg3,Kd7,Rd1,Ke6,Rc1,Kd7,a4,Nd3,Rf1,Ke8,Kg4,Ne5+,Kf5,Kf7,Rc1', 'e6#', 'https://lichess.org/training/osBzA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oSE2E', 'Blitz', 'Eddy_Muller', 2144, 'parakh31', 2053, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,Nbd7,Rc1,b6,cxd5,Nxd5,Bxe7,Nxe7,e4,Bb7,Be2,c5,O-O,Nf6,dxc5,bxc5,Qc2,Qb6,h3,Rad8,Ng5,h6,e5,hxg5,exf6,Nf5,fxg7,Kxg7,Rfd1,Nd4,Qa4,Bc6,Qa3,Rd5,Bf1,Rf5,Na4,Qc7,Nxc5,Nf3+,gxf3,Rxf3,Na6,Qf4,Qd6,Rg3+,fxg3', 'Qe3+,Kh2,Qf2+,Bg2,Qxg2#', 'https://lichess.org/training/oSE2E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oseF5', 'Classical', 'royalflushnuts', 2168, 'tsiri55', 1826, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Nc3,Bg4,h3,Bh5,O-O,Nge7,Nd5,Ba5,b4,Bxb4,Bg5,Bxf3,Qxf3,f6,Qxf6,gxf6', 'Nxf6+,Kf8,Bh6#', 'https://lichess.org/training/oseF5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oSEJh', 'Rapid', 'heshmatferdos', 1859, 'Paul_Morphy1848', 1884, 'd4,c6,c4,d5,Nf3,Bf5,e3,e6,Nc3,Bb4,Nh4,Qxh4,Qb3,Qe7,a3,Bxc3+,bxc3,Nf6,a4,O-O,Ba3,Qc7,Bxf8,Kxf8,c5,b6,Qa3,Nbd7', 'cxb6+,c5,bxc7', 'https://lichess.org/training/oSEJh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oseSe', 'Rapid', 'Phila_Nkatana', 1695, 'QueenSacrificer', 1661, 'c4,c5,g3,Nc6,Bg2,Nf6,Nc3,e6,Nf3,d5,cxd5,Nxd5,O-O,Nxc3,bxc3,b6,a3,Bb7,c4,Na5,Bb2,Nxc4,Bc3,Rb8', 'Qa4+,Qd7,Qxc4', 'https://lichess.org/training/oseSe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSf6r', 'Blitz', 'tanajno', 1853, 'Penelope1', 1887, 'c4,c6,Nf3,d5,cxd5,cxd5,d4,Nf6,Nc3,e6,e3,a6,Bd3,Bd6,Bd2,O-O,O-O,b5,a3,Nbd7,e4,dxe4,Nxe4,Nxe4,Bxe4,Rb8,Rc1,Bb7,Qe2,Bxe4,Qxe4,Nb6,Ba5,Qe7,Ne5,Nd5,Nc6,Qb7,Nxb8,Bxb8,Rc2,Qd7,Rfc1,Qd6,g3,Qe7,Rc8,g6,Rxf8+,Qxf8,Qc2,Kg7,Qc8,Qd6,Qe8,Ne7,Bd8,Nf5,Rc8,Nxd4,Bg5,Nf3+,Kg2,Nxg5,Rxb8,Qd5+,Kg1,Qd1+,Kg2,Qf3+,Kg1', 'Nh3+,Kf1,Qxf2#', 'https://lichess.org/training/OSf6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oSHbq', 'Rapid', 'mohsen33333', 1985, 'JonoPeak', 1905, 'e4,c6,f4,d5,e5,Bf5,Nf3,h5,Be2,e6,O-O,Bc5+,d4,Bb6,Kh1,Nh6,c3,Ng4,h3,Ke7,Nh4,g6,Nxf5+,gxf5,hxg4,hxg4+,Kg1,g3,Rf3', 'Rh1+,Kxh1,Qh8+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/oSHbq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSHJC', 'Classical', 'fastwalker', 1687, 'SublimeLiving', 1724, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nf3,d5,e5,h6,Bb5,Be7,Bxc6+,bxc6,Qa4,Bd7,O-O,c5,Qd1,cxd4,Qxd4,a6,Nc3,Rc8,h4,Bc5,Qf4,Ne7,Be3,Ng6,Qg3,Bxe3,fxe3,O-O,h5,Ne7,Ng5,Nf5,Rxf5,exf5,Nf3,Qb6,Nxd5,Qxb2,Re1,Bc6,Ne7+,Kh8,Nxf5,Rg8,Ne7,Bxf3,gxf3,Qxa2,Nxc8,Rxc8,Qg4,Rc2,f4,a5,f5,Rh2,f6', 'Qf2#', 'https://lichess.org/training/OSHJC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oSHRk', 'Rapid', 'fanta1951', 1997, 'mam0061', 1817, 'e4,e5,Nf3,d6,Bc4,Nf6,d3,Be7,O-O,O-O,h3,c6,Re1,Bd7,c3,Qc8,Nbd2,Bxh3,gxh3,Qxh3,Nh2,d5,exd5,cxd5,Bb3,Qxd3,Ndf3,Qg6+,Kh1,e4,Ne5,Qf5,Qd4,Bd6,f4,Nc6,Nxc6,bxc6,Qf2,Rae8,Be3,Ng4,Nxg4,Qxg4,Rg1', 'Qh3+,Qh2,Qxe3', 'https://lichess.org/training/oSHRk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OsIHq', 'Rapid', 'Ilijadrazic', 1917, 'GrandePatzer', 1969, 'd4,d5,c4,e5,dxe5,d4,a3,c5,e3,Nc6,exd4,cxd4,Nf3,Bg4,Be2,Nge7,h3,Bxf3,Bxf3,Ng6,Bxc6+,bxc6,e6,fxe6,O-O,c5,Nd2,Be7,Nf3,O-O,Qd3,Qc7,Re1,e5,Qe4,Bd6,Ng5,Rae8,Qd3,a5,Ne4,Be7,Bg5,Bxg5,Nxg5,Qb7,b3,Rf6,Ne4,Rc6,Rab1,Nf4,Qg3,Rg6,Qf3,Nxg2,Kh1,Rf8', 'Nf6+,Rgxf6,Qxb7', 'https://lichess.org/training/OsIHq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('osJO0', 'Rapid', 'mariomm', 1724, 'sergeiy', 1700, 'd4,e5,Nc3,exd4,Qxd4,Nf6,Nb5,a6', 'Qe5+,Be7,Nxc7+', 'https://lichess.org/training/osJO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('osjPD', 'Rapid', 'Mikel-David', 1912, 'Boshra778811', 1999, 'd4,e6,c4,c5,d5,exd5,cxd5,Nf6,Nc3,Bd6,Bg5,O-O,Nb5,Qa5+,Nc3,Ne4,Bd2,Nxc3,Bxc3,Qb6,e4,Re8,Qg4,Be5,Bd2,Bxb2,Rb1,d6,Qg3,Rxe4+,Ne2,Bf5,Bc3,Rxe2+', 'Kxe2,Bxc3,Rxb6', 'https://lichess.org/training/osjPD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSjrX', 'Rapid', 'Spartata123', 2086, 'hshahsavan', 1685, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,Qe7,O-O,Ng4,Bf4,g5,Bxg5,Qb4,Bb3,Rg8,Bd2,Qe7,Bg5,Qc5,Bf6,Nxf6,exf6,Bd6,Re1+,Be5,Nxe5,Nxe5,Qe2,d6,Kh1,Qc6,f4,Bg4,Qf2,Bh3,Rg1,Ng6,Qe2+,Kd7,Bxf7,Nxf4,Qe7+,Kc8,Bxg8', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/OSjrX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('osK6t', 'Rapid', 'Mwtorock', 1685, 'mugiwara_x', 1686, 'd4,d5,Bf4,Nf6,e3,Bf5,Bd3,Nc6,Nf3,Bxd3,Qxd3,e6,Nbd2,Bd6,Bg3,Nb4,Qb5+,c6,Qa4,b5,Qb3,a5,c3,a4,Qd1,Nd3+,Kf1,Bxg3,hxg3,Ng4,Ne5,Ndxf2,Qf3,Nxe5,Qxf2,Ng4,Qf4,h5', 'Qxg4,hxg4,Rxh8+,Ke7,Rxd8', 'https://lichess.org/training/osK6t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSkC5', 'Classical', 'farhadriahi', 1653, 'olgunali', 1675, 'e4,f5,exf5,Nf6,Bc4,d5,Bd3,e5,Bb5+,c6,Ba4,Bxf5,Nf3,Bg4,O-O,e4,Qe1,Be7,Ne5,Bh5,d4,exd3,cxd3,O-O,Nc3,Re8,f4,Nbd7,d4,Bb4,Bd2,Qb6,Qf2,Ne4,Nxe4,dxe4,Nxd7,Qa5,Bxb4,Qxa4,a3,Rad8,Ne5,a5,Bc5,Rb8,Qh4,Be2,Rfe1,Ba6,Nd7,Rbd8,Nb6,Qb3,Qf2,e3,Qf3,Qxb2,Rab1,Qa2,Rbd1,e2,Rd3,Bxd3,Qxd3,Qe6,Nc4,b5,Nxa5,Rd5,Nb3,Rf5,Nc1,Rd8,Rxe2,Qf7,g3', 'Rxc5,dxc5,Rxd3', 'https://lichess.org/training/OSkC5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSLum', 'Rapid', 'WCM NicolleM_13', 2108, 'AlanYeray16', 1795, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,O-O,Be2,c6,O-O,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Nh2,Bxe2,Nxe2,Qb6,Kh1,Nd7,c3,c5,d5,f5,Ng3,fxe4,Nxe4,Nf6,Ng5,Qb5,Ne6,Rfc8,Nxg7,Kxg7,f5,Ne4,Qg4', 'Qxf1+,Nxf1,Nf2+,Kg2,Nxg4', 'https://lichess.org/training/OSLum');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oSLYk', 'Rapid', 'myzika51', 1691, 'Y2299F', 1602, 'd4,c5,d5,d6,c4,e6,e4,Qe7,Nc3,exd5,cxd5,Nf6,Bd3,Nbd7,f4,Nb6,Nf3,Nfxd5,O-O,Nxc3,bxc3,Bg4,h3,Bxf3,Qxf3,f6,Re1,g6,e5,dxe5,fxe5,fxe5,Bb5+,Nd7,Qxb7,Rd8,Bf4,Bg7,Rad1,O-O,Bg3,Qg5,Kh2,Nf6,Rxd8,Rxd8,Bxe5,a6,Bc4+,Kh8,Qxa6,Re8,Bxf6', 'Qf4+,Kg1,Rxe1+', 'https://lichess.org/training/oSLYk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('osLZI', 'Blitz', 'Comrad27', 1769, 'Sonk3', 1801, 'e4,e6,d4,f6,Nf3,Ne7,Nc3,Ng6,Be3,Be7,Bd3,O-O,Qd2,b6,O-O-O,c6,e5,f5,h3,a5,g4,fxg4,hxg4,Rxf3,Bxg6,hxg6,Qd3,Qe8,Qf1,b5,Qg2,Qf7,Rh3,Rxh3,Qxh3,Kf8,Ne4,b4,Bg5,Bxg5+,Nxg5,Qf4+,Qe3,Qxg4,Rh1,Ba6,d5,cxd5,Qc5+,Kg8', 'Rh8+,Kxh8,Qf8#', 'https://lichess.org/training/osLZI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSn6L', 'Rapid', 'zkel29', 1859, 'shikantaza', 1821, 'Nf3,Nc6,c4,e5,Nc3,Bc5,e3,d6,h3,a6,d4,e4,Nxe4,Bb4+,Bd2,Bxd2+,Qxd2,Nf6,Nxf6+,Qxf6,O-O-O,Bd7,Bd3,O-O-O,b4,Na7,Bc2,Rde8,a4,c5,bxc5,dxc5,Ne5,Be6,Bb3,Nc6,Nxc6,bxc6,f4,Rd8,Qa5,Kb7,Qxc5,Qg6,g4,Qe4,Rhe1,Qf3,f5,Bd7,a5,Bc8,Qb6+,Ka8,e4,Qxh3,Qxc6+,Bb7,Qb6,Rb8,c5,Qc3+,Kb1,Rbc8,Bd5,Rb8,c6', 'Bxc6,Re3,Rxb6+', 'https://lichess.org/training/OSn6L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oSoYo', 'Rapid', 'holdie112', 2044, 'rived', 2004, 'd4,c5,e3,cxd4,exd4,d5,c4,Nf6,Nf3,Bf5,Nc3,e6,b3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,Ne4,Bb2,Nc6,Bd3,dxc4,Bxc4,Bg4,h3,Bxf3,Qxf3,Nd6,Bd3,Qa5+,b4,Nxb4,axb4,Qxb4+,Ke2,Qxb2+,Ke3,Nf5+,Bxf5,exf5,Qxf5,Rfe8+,Kf3,Qc3+,Kg4,Qxd4+,f4,g6,Qb5,h5+,Kg5,Qf2,g4,b6,Raf1,Qc5+,Qxc5,bxc5,gxh5,gxh5,Kxh5,Kh7,Kg5,Re6,f5,Rg8+,Kf4,Rh6,Rc1,Rc8,Kg5,f6+,Kf4,c4,h4,Rc5,h5,a5,Rcg1,Kh8,Rg6,Rh7,Rxf6,c3,Rg1,Rd7,Rf8+,Kh7,Rgg8,Rc4+,Ke3,c2', 'Rh8+,Kg7,f6#', 'https://lichess.org/training/oSoYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSOYQ', 'Rapid', 'abstract1972', 1875, 'direstraits', 1853, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,f4,d6,Nc3,Nf6,Nf3,Be7,Bd3,O-O,O-O,a6,e5,dxe5,Nxe5,Qxd4+,Kh1,Nxe5', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/OSOYQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSP6r', 'Rapid', 'Sampewali', 1927, 'anantsogani', 1955, 'e4,e6,Nf3,d5,exd5,exd5,d4,Be7,Bd3,Nf6,h3,O-O,Nc3,c5,Be3,c4,Be2,Nc6,Qd2,Bd6,O-O-O,a6,Rhe1,b5,Bg5,h6,Bh4,Be6,Ne5,Nb8,f4,b4,Nb1,a5,g4,Be7,Bxf6,Bxf6,Bf3,b3,axb3,cxb3,c3,a4,Na3,Be7,Qg2,Bxa3,bxa3,Qd6,Kb2,Nc6,f5,Na5,fxe6,fxe6,Rf1,Rac8,g5,hxg5,Qxg5,Nc4+,Nxc4,Rxc4,Be2,Rcc8,Rg1,Qc7,Qg3,Rf2,Qxc7', 'Rxe2+,Kb1,Rxc7', 'https://lichess.org/training/OSP6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OsPAD', 'Blitz', 'FM nemtsevguru', 2368, 'Lutsiv_Roman', 2275, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,e6,Be2,Bd6,Bg3,O-O,O-O,Bxg3,hxg3,Nbd7,c4,c5,Nc3,Rc8,cxd5,Nxd5,Nxd5,exd5,dxc5,Nxc5,Nd4,Be4,Rc1,Qf6,Bg4,Ne6,Qa4,Rxc1,Rxc1,Nxd4,Qxd4,Qxd4,exd4,f5,Be2,f4,gxf4,Rxf4,g3,Rf7,Rc5,b6,Rc8+,Rf8,Rc3,g5,f3,Bg6,Kf2,Rf7,Rc8+,Kg7,Rd8,Rc7,Bd1,Bf7,Bb3,Kf6,Ke3,h5,f4,Re7+,Kf3,gxf4,gxf4,Re4,Bxd5', 'Rxd4,Bxf7,Rxd8', 'https://lichess.org/training/OsPAD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ospBT', 'Rapid', 'vahid1000', 2113, 'ArturGoodChess', 1931, 'd4,Nf6,h3,g6,a3,Bg7,Nf3,d5,Nc3,e6,e3,Ne4,Bd3,f5,Ne2,c5,dxc5,Nc6,Nfd4,Nxd4,exd4,O-O,f3', 'Qh4+,g3,Nxg3', 'https://lichess.org/training/ospBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSPme', 'Blitz', 'Dango8888', 2272, 'il-_-li', 2346, 'c4,c6,d4,d5,Nc3,Nf6,g3,Bg4,Bg2,e6,Nf3,Bxf3,Bxf3,Nbd7,c5,e5,e3,Be7,O-O,O-O,b4,a5,b5,exd4,exd4,Ne8,bxc6,bxc6,Bf4,Bf6,Rb1,Nxc5,Nxd5,cxd5,dxc5,Nc7,Bxc7,Qxc7,Qxd5,Rad8,Qc6,Qxc6,Bxc6,Rd2,a4,Ra2,Bb5,g6,c6,Bd4,Rbc1,Bb6,Ba6,Bc7,Rfd1,Re8,Rd7,Bb6,Kg2,Rxf2+,Kh3,Re5,c7', 'Rh5+,Kg4,f5#', 'https://lichess.org/training/OSPme');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSpuN', 'Rapid', 'Helmi_Kasim', 1833, 'andi_fade', 1813, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,O-O,Nf6,Re1,d6,Nc3,O-O,Bd5,Be6,Bxc6,bxc6,a3,Qd7,b4,Bb6,a4,a6,a5,Ba7,d4,Bc4,dxe5,Ng4,Be3,Bxe3,fxe3,f6,exd6,cxd6,h3,Ne5,Nxe5,fxe5,Qh5,Rf6,Na4,Qe7,Nb6,Bf7,Qe2,Ra7,Nc8,Qb7,Nxa7,Qxa7,Rf1,Rg6,Qh5', 'Rxg2+,Kxg2,Bxh5', 'https://lichess.org/training/OSpuN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('osrk7', 'Rapid', 'exolol', 1636, 'Bamakot', 1626, 'e4,e6,b3,d5,exd5,exd5,Bb2,d4,d3,c5,Be2,Nf6,Bf3,Bd6,h3,O-O,Ne2,Qb6,O-O,Nc6,Nd2,Be6,Re1,Bd5,Bxd5,Nxd5,Nc4,Qc7,Kf1,Rfe8,Ba3,b6,Bc1,Re7,Bg5,Re6,Nxd6,Qxd6,c4,Ndb4,Bf4,Qd7,a3,Na6,b4,Nc7,bxc5,bxc5,Bxc7,Qxc7,Nc1,Rae8,Rxe6,Rxe6,Nb3,Qd6,Kg1,a5,Qd2,a4,Na5,Kf8,Nxc6,Qxc6,Qa5,g6,Rb1,Re5,Rb6,Qc7,Ra6,Qxa5,Rxa5,Re1+,Kh2,Rd1,Rxc5,Rxd3,Rd5,Rxa3,c5,d3,c6,Rc3,c7,Rxc7,Rxd3,Rc4,Ra3,Kg7,g3,f5,Kg2,h5,Kh2,Kf6,Kg2,Ke5,Kf3,g5,Ke3,Kd5,Kd3,Kc5,f3,Kb5,Ra2,Kb4', 'Rxa4+,Kxa4,Kxc4', 'https://lichess.org/training/osrk7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oSRl7', 'Rapid', 'piimbaa', 1996, 'hazemtaher', 1935, 'f4,d5,Nf3,Nc6,e3,Bf5,Be2,Nf6,d4,e6,O-O,Bd6,c3,O-O,b4,a6,a4,b5,axb5,axb5,Rxa8,Qxa8,Bxb5,Bxb1,Qb3,Be4,Nd2,Rb8,Be2,Na5,Qb2,Nc6,Qb3,Na5,Qb2,Nc4,Nxc4,dxc4,Bxc4,Bd5,Bd3,Ne4,Re1,Qa2', 'Qxa2,Bxa2,Bxe4', 'https://lichess.org/training/oSRl7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oStt0', 'Blitz', 'FM HAMHAM22', 2464, 'TheMa', 2471, 'Nf3,d5,c4,c6,d4,Nf6,Nc3,e6,Qb3,Qb6,c5,Qc7,g3,Nbd7,Bf4,Qa5,Bg2,b6,cxb6,axb6,O-O,c5,Nb5,c4,Nc7+,Kd8,Qc2,Ra7,b3,b5,Ng5,Ke7,e4,h6,Nxf7,Kxf7,exd5,Rxc7,dxe6+,Kxe6,Bxc7,Qxc7,bxc4,Qxc4,Rfe1+,Kf7,Qb2,Qb4,Qe2,Nb6,Rab1,Qxd4,Qxb5,Bc5,Re2,Bg4,Qb3+,Kg6,Rc2,Rb8,Rbc1,Bd6,h3,Bf5,Rc6,Nbd5,Qd1,Qxd1+,Rxd1,Rb6,Bxd5,Nxd5', 'Rxb6,Nxb6,Rxd6+', 'https://lichess.org/training/oStt0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OsvRl', 'Rapid', 'koznazna', 1722, 'ThinZidiouZ3', 1723, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,h6,O-O,Nf6,Nc3,Bg4,fxe5,Nxe5,d4,Nxc4,e5,Bxf3,Rxf3,dxe5,Qf1,Qxd4+,Kh1,O-O-O,Rd3,Qb6,Na4,Qe6,b3,Rxd3,Qxd3,Nd6,Nc5,Qg4,Be3,Nfe4,h3,Qh4,Bg1,Ng3+,Kh2,Nde4', 'Qd7+,Kb8,Qe8+,Qd8,Qxd8#', 'https://lichess.org/training/OsvRl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSvu1', 'Rapid', 'dz18a', 1750, 'sayedsoliman11', 1734, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Nc3,a6,a3,Bg4,f3,Bd7,O-O,c6,Nf5,Bxf5,exf5,d5,Bd3,O-O,Re1,Nbd7,Kh1,Re8,Bg5,Qc7,Re2,h6,Bh4,Ne5,Qe1,Nxd3,cxd3,Kf8,Na4,Rad8,Bg3,Bd6,Bf2,c5,Rc1,b6,b4,d4,bxc5,bxc5,Bxd4,Bxh2,Bxc5+,Bd6,Bb6', 'Rxe2,Bxc7,Rxe1+,Rxe1,Bxc7', 'https://lichess.org/training/OSvu1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSvUO', 'Rapid', 'tripperx', 1880, 'solibalsara', 2016, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,cxd6,Nf3,g6,b3,Bg7,Bb2,O-O,Nc3,Bf5,Nh4,Bd7,Be2,Nc6,Nf3,e5,dxe5,dxe5,O-O,Bf5,Rc1,Qe7,Nb5,Rfd8,Qe1,e4,Ba3,Qf6,Nd2,a6,Nc7,Rac8,c5,Rxc7,cxb6,Rcd7,Nc4,Nd4,Bb2,Nxe2+,Qxe2,Qh4,Bxg7,Kxg7,Rfd1,Qg5,Rxd7', 'Qxc1+,Qf1,Qxf1+', 'https://lichess.org/training/OSvUO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OsVZa', 'Blitz', 'fakenew', 1580, 'sultanofnorway96', 1625, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,g6,O-O,Bg7,Re1,O-O,d3,Nc6,a3,Bd7,Ba2,Rc8,Ne2,a6,Ng3,Bg4,Re3,Nd4,Bd2,Nxf3+,gxf3,Bh3,Qe2,Kh8,c3,Nh5,Kh1,e6,Rg1,Qh4,Nxh5,gxh5,f4,Bg4,f3,Bh3,f5,exf5,exf5,Bxf5,Qg2,Be5,Be1,Qh3,Bd5,b5,Bg3,f6,f4,h4,fxe5,hxg3,Rxg3,Qh6,Rg8+,Rxg8', 'Qxg8+,Rxg8,Rxg8#', 'https://lichess.org/training/OsVZa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oSWbA', 'Rapid', 'Saloma08', 1659, 'fearfiles', 1644, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ng5,d5,Nc3,dxe4,Ngxe4,f5,Ng5,Qe7+,Qe2,Qxe2+,Bxe2,h6,Nge4,fxe4,Nxe4,Bf5,Bd3,Bxe4,Bxe4,Nc6,b3,Bd6,Bb2,Be5', 'Bxc6+,bxc6,Bxe5', 'https://lichess.org/training/oSWbA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oSwLR', 'Rapid', 'Meitner', 1829, 'veternik', 1641, 'e4,e6,d4,c6,Nc3,d5,exd5,exd5,Bf4,Bb4,Qd2,Ne7,O-O-O,Bf5,Bd3,Bxd3,Qxd3,O-O,Nf3,Ng6,Bd2,Nd7,Kb1,b5,a3,Bd6,h4,a5,h5,Nf4,Qf5,Ne6,Bh6,gxh6,Rde1,Ng7,Qh3,Nf6,g4,b4,g5,hxg5,Nxg5,bxc3,h6,Ngh5,Qd3,Nf4,Qf5,Ng6,Rhg1,Rb8,Nxh7,Nxh7,Rxg6+,Kh8,Rg7,Rxb2+,Ka1,Nf6,Reg1,Rb8,Qg5,Be7', 'Rh7+,Nxh7,Qg7#', 'https://lichess.org/training/oSwLR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oSWnQ', 'Blitz', 'Nylcosta2', 1641, 'PS-DES', 1648, 'b3,e5,Bb2,Nc6,g3,Bc5,Bg2,d6,a4,Nf6,c3,a5,Bxc6+,bxc6,d4,exd4,cxd4,Bb4+,Bc3,Bf5,Bxb4,axb4,Nd2,O-O,Ngf3,Ne4,Nxe4,Bxe4,O-O,Qf6,d5,cxd5,Nh4,Rfe8,f3,Bg6,Nxg6,Qxg6,Rc1,c5,Qxd5,Rxe2,Rce1,Rxe1', 'Qxa8+,Re8,Qxe8#', 'https://lichess.org/training/oSWnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oSWrq', 'Blitz', 'RED0S', 2430, 'FM wejbimoo', 2372, 'e4,c5,Nf3,e6,c3,d5,exd5,Qxd5,d4,Nf6,Nbd2,Be7,Bc4,Qd8,O-O,O-O,dxc5,Bxc5,Qe2,b5,Bxb5,Bb7,Nb3,Bb6,Rd1,Qc7,Bg5,Nd5,c4,Nf4,Bxf4,Qxf4,c5,Bc7,Nbd4,a6,c6,axb5,cxb7,Ra7,Nxb5,Rxb7,Nxc7,Qxc7,Rac1,Qa5,b3,Nd7,Qe4,Ra7,Rc2,Nf6,Qc4,Nd5,Ne5,Rc7,Nc6,Qb6,Rdc1,Rfc8,a3,h6,b4', 'Rxc6,Qxc6,Rxc6', 'https://lichess.org/training/oSWrq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('osWS0', 'Rapid', 'Obreynsilver', 1603, 'death_machine', 1628, 'e4,e5,b3,d6,Bb2,Nf6,Nc3,Be7,Qe2,Nc6,O-O-O,Nd4,Qd3,O-O,Nf3,Nxf3,Qxf3,c6,h3,b5,g4,b4,Ne2,a5,Ng3,a4,Bc4,axb3,Bxb3,c5,d3,Bb7,Kb1,d5,h4,c4,dxc4,Qa5,cxd5,Bc5,Bxe5,Nd7,Bb2,f6,g5,Kh8,gxf6,Nxf6,Nh5,Nxd5,Bxg7+,Kg8,exd5,Rxf3,d6+,Rxb3+,cxb3,Qxa2+,Kc1,Qxb3,d7,Rd8,Rhg1,Kf7,Bf6,Qc4+,Kb1,Qe4+,Kb2,Bb6,Rg7+,Ke6', 'Re7+,Kf5,Rxe4', 'https://lichess.org/training/osWS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('osY1M', 'Rapid', 'Patless', 1559, 'omar4557', 1512, 'd4,d5,Bf4,Nf6,Nf3,Bf5,e3,a6,h3,h6,g4,Bh7,c3,Ne4,Bd3,Nd7,Nbd2,Ndf6,Ne5,e6,f3,Nxd2,Bxh7,Nxf3+,Qxf3,Rxh7,g5,Ne4,g6,fxg6,Nxg6,Bd6,Bxd6,Qxd6,Ne5,O-O-O,O-O-O,Rf8,Qg2,Nf2,Rhf1,Nxd1,Rxf8+,Qxf8,Qg6,Nxe3', 'Qxe6+,Kb8,Nd7+,Ka7,Nxf8', 'https://lichess.org/training/osY1M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OsyDz', 'Blitz', 'KingZlatan', 1986, 'Ismayol2', 1840, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kxf2,Qe7,Nxh8,d5,Bxd5,Bg4,Bxc6+,bxc6,Qe1,Qc5+,Qe3,Qxc2,Na3,Nxe4+,Kf1', 'Qd1+,Qe1,Be2+,Kg1,Qxe1#', 'https://lichess.org/training/OsyDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSyg9', 'Rapid', 'Djampo', 1733, 'Port_z', 1722, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,Nc6,Nf3,O-O,e4,Bxc3,Bxc3,Nxe4,Bd3,Nxc3,bxc3,Ne7,d5,exd5,cxd5,Nxd5,Bxh7+,Kxh7,Qxd5,c6', 'Qh5+,Kg8,Ng5', 'https://lichess.org/training/OSyg9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSzC6', 'Rapid', 'Tal2', 1675, 'Vivendi7', 1892, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,Bd6,Bg3,Bxg3,hxg3,Nc6,Bd3,Bd7,Nbd2,Qe7,Ne5,O-O-O,g4,h6,f4,Ne8,Nb3,f6', 'Ng6,Qf7,Nxh8', 'https://lichess.org/training/OSzC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OSZlE', 'Blitz', 'spont', 1909, 'aeuae', 1785, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h5,Nf3,Nd7,Bd3,Bxd3,Qxd3,g6,Ne5,Nxe5,dxe5,Qxd3,cxd3,O-O-O,Ke2,Bg7,f4,Nh6,Be3,Ng4,Rhd1,e6,Ne4,Nxe3,Kxe3,Bf8,d4,Be7,g3,Rd5,a3,Rhd8,b4,Kb8,Rac1,R5d7,Rc4,Ka8,Rd3,Kb8,Nc3,b5,Rxc6,Kb7,Rc5,Bxc5,bxc5,a6,Ne4,Kc6,Nd6,Rb8,Ke4,a5,Rb3,b4,axb4,axb4,Nc4,Ra7,Nb6,Ra3,Rxb4,Rxg3,Ra4,Rg4,Ra7,Rb7,Ra8,Rxh4,Rg8,Rg4,Nc8,h4,Nd6,Rb3', 'Rc8+,Kd7,c6+,Ke7,Re8#', 'https://lichess.org/training/OSZlE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OsZNi', 'Rapid', 'shantanupandit', 1688, 'ali_1340', 1673, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,c6,Bd3,Nf6,O-O,Bg4,Qe1,O-O,h3,Bh5,e5,dxe5,Qxe5,Bg6,Bxg6,fxg6,Ne6,Bd6,Qd4,Qd7,Nxf8', 'Bh2+,Kxh2,Qxd4', 'https://lichess.org/training/OsZNi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OT091', 'Blitz', 'marenzo', 1790, 'Alejandro_Cota', 1780, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nf6,Bg5,e6,Bb5+,Bd7,Be2,a6,Nf3,Be7,O-O,Nc6,Ne5,O-O,Nxd7,Qxd7,Re1,h6,Bh4,g5,Bg3,Ne4,Nxe4,dxe4,c3,f5,f3,f4,Bxf4,Rxf4,fxe4,Rxe4,Rf1,Rd8,Bd3,Rh4,g3,Rh3,Qg4,e5,Qe4,Bf8,Rad1,exd4,Qg6+,Qg7,Qe6+,Kh8,Qxh3,dxc3,bxc3,Bc5+,Kh1,Ne5,Qf5,b5,Bc2,Re8,Rde1,Rf8,Qe6,Nf3,Re2,Rf6,Qe8+,Rf8,Qe4,g4,h3,h5,hxg4,hxg4,Bb3', 'Qh6+,Rh2,Qxh2#', 'https://lichess.org/training/OT091');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oT4uN', 'Classical', 'benderbr', 1613, 'A0sukh02', 1852, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Nd4,Nxe5,Nxb5,Nxb5,d6,Nf3,Bg4,d3,a6,Nc3,h6,O-O,Be7,d4,O-O,h3,Bh5,Qd3,Bxf3,Qxf3,c6,e5,dxe5,dxe5,Nd5,Qg3,Bg5,Nxd5,cxd5,Bxg5,hxg5,Rad1,Rc8,Rfe1,Rxc2,Rb1,d4,e6,fxe6,Rxe6,Re8', 'Rxe8+,Qxe8,Qb3+,Kh8,Qxc2', 'https://lichess.org/training/oT4uN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OT52M', 'Classical', 'slews', 1720, 'Azorrod', 1803, 'e4,e5,Bc4,Nc6,Nf3,d6,h3,f5,exf5,Bxf5,a3,Qd7,Nc3,Nf6,Ng5,d5,Bb5,h6,Nf3,Bd6,Qe2,O-O-O,O-O,Bxc2,d3,Bb3,Bxc6,Qxc6,Nxe5,Qe8,Nf3,Qg6,Nh4,Qf7,Nf5,Rhe8,Nxd6+,Rxd6,Qf3,Qg6,Bf4,Rd7,Rac1,a6,d4,Rf8,Qe3,Bc4,Rfe1,Nh5,Be5,Rdf7,f3,Rxf3,Qd2,Rf2,Qxf2,Rxf2,Kxf2,Qf5+,Kg1,g5,Ne2,Nf4,Nxf4,gxf4,b3,f3,Bg3,f2+,Bxf2,Bxb3,Bg3,c6,Rf1,Qd3,Be5,Bc4,Rf8+,Kd7,Rcf1,Qe3+,R1f2,c5,Rf3,Qe1+,Kh2,cxd4,Rf7+,Kc6,Bxd4,Qe4,R2f6+,Kb5,Rxb7+,Ka4,Bb2,d4,Rb4+,Ka5,Rf3,Qe5+,Rg3,Qd5,Rf3,Qe5+,Rg3,Qd5,Rf3,h5,Rg3,h4,Rf3,Qe5+,Kh1,Qe1+,Kh2,Bd5,Rf5', 'Qg3+,Kg1,Qxg2#', 'https://lichess.org/training/OT52M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ot5r5', 'Rapid', 'AlexanderW', 1912, 'jozef1234x', 2103, 'e4,e5,d4,exd4,c3,Nf6,e5,Nd5,cxd4,Nc6,Nf3,d6,exd6,Bxd6,Bc4,Nb6,Bb3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Nxd4,Qxb7,Ne2+,Kh1,Nxc1,Rxc1,Qf6,Rc2,Rfe8,Nc3,Rad8,Ne4,Qe5,Nxd6,Qxd6,Qxa7,Nd5,Rd1,c6,Rcd2,Qf6,Qc5,h6,Qd4,Qg5,Qg4,Qf6,g3,Qe5,Kg2,Kh8,Bxd5,cxd5,Qf3,d4,Qxf7,d3,Qf3,Rf8,Qe3,Qd5+,Kh2,Rf3,Qe1,Qxa2,Qe4,Qf7,Qe1,h5,Kg1,h4,Qe4,hxg3', 'Qh4+,Kg8,Qxd8+', 'https://lichess.org/training/Ot5r5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oT6h6', 'Blitz', 'Ezzyboss', 1694, 'ogutsan', 1703, 'g4,d5,Bg2,Bxg4,c4,Be6,Qb3,b6,cxd5,Bd7,d6,Bc6,Bxc6+,Nxc6,dxc7,Qxc7,Nc3,Nf6,Nf3,h6,Rg1,e6,d3,Nh5,Qb5,Bd6,Qxh5,O-O,Qxh6,g6,Bg5,Be7,Ne4,Bxg5,Nexg5,Rfd8,Qh7+,Kf8,Ne4,Nb4,Rd1,Nc2+,Kf1,Rac8,Nf6,Qf4,Ne4,Rxd3,exd3,Qxf3,Qh8+,Ke7,Qxc8', 'Ne3+,Ke1,Qxd1#', 'https://lichess.org/training/oT6h6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OT6Qa', 'Blitz', 'mortazarezayat', 1953, 'morpetr', 1965, 'd4,d5,c4,e6,Nc3,c6,e4,f5,exf5,exf5,cxd5,cxd5,Bb5+,Nc6,Qb3,Nf6,Nf3,Be7,O-O,O-O,Re1,a6,Bd3,b5,Bg5,Na5,Qc2,Ne4,Bxe7,Qxe7,Nxd5,Qd6,Bxe4,fxe4,Qxe4,Bb7,Ne7+,Kh8,Qe6,Qf4,Ne5', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/OT6Qa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OTaSx', 'Classical', 'sunnyvakkeel', 1676, 'kop68', 1873, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Bg4,Be2,h5,h3,Bd7,Nc3,Nh7,e5,Nc6,exd6,cxd6,O-O,O-O-O,Re1,f6,Bc4,Ne5,dxe5,dxe5,Bd2,g5,Nd4,g4,h4,f5,Bb5,Qxh4,g3,Qf6,Bxd7+,Rxd7,Nb3,Ng5,Qe2,Nf3+,Kf1,h4,Qc4+,Rc7,Qb5,Bd6,Nd5,Nxd2+,Nxd2,Qh6,Nxc7,Bxc7,gxh4,Qxh4,Ke2,g3,fxg3,Qxg3,Rg1', 'Rh2+,Kd1,Qxg1+', 'https://lichess.org/training/OTaSx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otdha', 'Rapid', 'zahra2020', 2120, 'marin_992', 1913, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Bd6,Bg5,c6,cxd5,exd5,e3,O-O,Bd3,Bg4,h3,Be6,O-O,a5,Re1,Nbd7,Bf4,Bxf4,exf4,b5,a3,Nb6,Ne5,Qc7,Rc1,Nc4,b3,Nb2,Qc2,Nxd3,Qxd3,Qb7,f5,Bd7,g4,Rad8,g5,Nh5,Qf3,g6,f6,Bf5,Nd1,Rd6,Ne3,Be4,N3g4,Bxf3,Nh6+,Kh8,Nexf7+,Rxf7', 'Re8+,Rf8,Rxf8#', 'https://lichess.org/training/otdha');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otdTL', 'Rapid', 'cassepp', 1739, 'PineapolisQuarantain', 1649, 'd4,d5,Nf3,Nc6,Bf4,Nf6,Nbd2,Bf5,e3,Nb4,Bd3,Nxd3+,cxd3,Bxd3,Qb3,Ba6,Ne5,e6,Qa4+,Nd7,Nb3,Be7,Rc1,c6,h3,Nxe5,Bxe5,O-O,Nc5,Bxc5,dxc5,b5,Qxa6,Qg5,Bg3,Qf6,b4,Qb2,O-O,Qxb4,Qxc6,Rac8,Qb6,axb6,cxb6,Rxc1,Rxc1,Qe7,Rc7,Qd8,b7,Qf6', 'Rc8,Qd8,Rxd8', 'https://lichess.org/training/otdTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OTENO', 'Blitz', 'Fumier29280', 1665, 'Gasto0', 1697, 'd4,d5,e3,Bf5,Bd3,Bg6,Nd2,e6,f4,c5,Ngf3,Nc6,Bxg6,hxg6,c3,Nf6,Ne5,Nxe5,fxe5,Nd7,Qf3,Qe7,a4,O-O-O,b4,cxb4,Rb1,bxc3,Nb3,f5,e4,fxe4,Qxc3+,Kb8,Na5,Nb6,Rb3,Rc8,Qe3,Qd7,Bd2,Qxa4,O-O,Rc7,Bc3,Nc4,Qg5,Nxa5,Ra1,Qxb3,Bxa5,Qb2', 'Qd8+,Rc8,Bc7+,Ka8,Qxc8#', 'https://lichess.org/training/OTENO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oteXa', 'Classical', 'yra23', 1773, 'Frank14o2', 1801, 'e4,Nf6,e5,Ng4,d4,d6,f4,dxe5,fxe5,c6,Nf3,Bf5,Bc4,e6,O-O,g6,h3,Nh6,Nc3,b5,Bb3,b4,Ne2,Be4,Ng3,Bxf3,Qxf3,Qd7,Qf6,Rg8,c3,Nf5,Nxf5,gxf5,Qh4,Rh8,Bh6,Bxh6,Qxh6,Qe7,Rf3,Nd7,Rg3,O-O-O,cxb4,Qxb4,Qe3,Nb6,Rc1,Kb7,Rg7,Rd7,Rd1,Nd5,Qc1,h5,Rd3,Rc7,Qf1,h4', 'Bxd5,cxd5,Rb3,Qxb3,axb3', 'https://lichess.org/training/oteXa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OTeZh', 'Rapid', 'sheikhoo', 1697, 'ucantekmekkk', 1623, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,h6,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Bxf7,Bb4,Bd5,Nd4,Bb3,Nxf3+,gxf3,Bxc3+,bxc3,Bd7,Be3,g5,O-O-O,b6,Be6,Rh7,Bxd7,Nxd7,h4,gxh4,Rxh4,h5,Bg5+,Kc8,Rdh1,Rf7,Rxh5,Rxf3,Rh8+,Kb7,Rxa8,Kxa8,Rh8+,Kb7,Be3,Nf6,Rf8,Kc6,Kd2', 'Nxe4+,Ke2,Rxf8', 'https://lichess.org/training/OTeZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oTgMY', 'Rapid', 'frenchieclem', 1753, 'alirezap', 1758, 'e4,c5,c3,Nf6,e5,Nd5,d4,e6,Nf3,h6,c4,Ne7,Nc3,cxd4,Nxd4,Nbc6,Nf3,Qc7', 'Nb5,Qb8,Nd6+', 'https://lichess.org/training/oTgMY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oTGRr', 'Rapid', 'sin74', 1781, 'benjmigz1511', 1767, 'c4,Nf6,Nc3,e6,d4,d5,e3,Bb4,Bd2,O-O,Nf3,Bxc3,Bxc3,c6,c5,Nbd7,Be2,b6,b4,Qc7,O-O,Ne4,Bb2,f5,Qc2,b5,Bd3,Nef6,Ng5,Re8,a4,bxa4,Rxa4,a6,b5,a5,b6,Qd8,Rfa1,Nh5,Nf3,Ndf6,Ne5,Bb7,Bc3,Ne4,Bxa5,Qg5,Be2,Nhf6,Bd2,Qh4,Rxa8,Bxa8,Ra7', 'Qxf2+,Kh1,Qxe2', 'https://lichess.org/training/oTGRr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OTgZh', 'Rapid', 'rosario02', 1639, 'BlackCheck', 1724, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,h6,Qd2,Nf6,f3,Qa5,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,Nd7,Nd1,Qxd2,Bxd2,O-O,Bc3,e5,a3,Nc5,Nf2,Na4,Nd1,Rb8,Rb1,d4,Bb4,Re8,Re1,Bb7,Bb5,Nc3,Nxc3,dxc3,Bxe8,Rxe8,Bxc3,e4,Bxg7,Kxg7,fxe4,Bxe4,Rbc1,f5,c4,Rd8,Re2,a5,c5,Rb8,c6,Rc8,c7,Kf7,Re3,Ke6,Rec3,Kd7,g3,a4,Rd1+,Ke6,Rd2,h5,Kf2,Ke5,Ke3,g5,Rc5+,Ke6,Rc3,Ke5,Rd4', 'f4+,Kf2,Kxd4', 'https://lichess.org/training/OTgZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otHaO', 'Rapid', 'naim2413', 2308, 'checkmate567', 2341, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be2,Bg7,Be3,Nf6,Nc3,O-O,Qd2,d5,Nxc6,bxc6,O-O,Nxe4,Nxe4,dxe4,Qxd8,Rxd8,c3,f5,Bc4+,Kf8,Bc5,Rd2,Rfd1,Rd7,Rxd7,Bxd7,Rd1,Ke8,a4,Rb8,Rd2,Bc8,Bxa7,Bxc3,Rc2,Rxb2,Rxb2,Bxb2,a5,e6,a6,Kd7,Bb6,Be5,Kf1,Kd6,Ke2,c5,h3,Kc6,Ba5,Bc7,a7,Bb7,Bxc7,Kxc7,Bxe6,Ba6+,Kd2,Kb7,Bg8,Kxa7,Bxh7,Bc8,g3,Be6', 'Bxg6,Kb6,h4', 'https://lichess.org/training/otHaO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtHeE', 'Rapid', 'gugabom', 1653, 'Huanchaca', 1686, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,Nf3,Bd7,h4,Nc6,e3,h6,Bf4,Bd6,Bxd6,cxd6,cxd5,exd5,Bb5,a6,Ba4,b5,Bc2,Ne4,Nxe4,dxe4,Bxe4,Qe7,Qc2,Rc8,Qd3,d5,Bf5,Qb4+,Nd2,Bxf5,Qxf5,Ne7,Qe5,Qxb2,Rd1,f6,Qe6,Rc6,Qg4,Rc1,O-O,Rc2,Qxg7,Rg8,Qh7,Rxd2,e4,Rxd1,Rxd1,Qxa2,e5,fxe5,dxe5,Rf8,f3,Qe2,Rf1,Qxe5,Qxh6,Rh8,Qxa6,Rxh4,Qa8+,Kf7,Kf2,d4,Re1,Qc7,Qa2+,Kf6,Qe6+,Kg5', 'Re5+,Qxe5,Qxe5+', 'https://lichess.org/training/OtHeE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oTIky', 'Rapid', 'sushantreigns', 1605, 'ashish259', 2061, 'e4,Nc6,d4,e5,d5,Nce7,Nf3,Ng6,h4,h6,h5,N6e7,Nxe5,Nf6,Nc3,d6,Bb5+,Bd7,Nxd7,Nxd7,O-O,Ng8,Qf3,a6,Be2,Be7,Qh3,Ngf6,Qg3,Rg8,Bf4,g6,hxg6,Rxg6,Qe3,Ne5,Qd4,Qd7,Bg3,h5,Rab1,h4,Bxh4,Qh3,Bg3,Qh7,Bxe5,dxe5,Qxe5,O-O-O,Bh5,Nxh5,Qh2,Rh8,Qh3+,Kb8,Ne2,Rh6,Rfd1,Qxe4,Nc3,Qg6,Qf3,Nf4,g3,Rh1+,Qxh1,Qxg3+,fxg3', 'Bc5+,Rd4,Bxd4+,Kf1,Rxh1#', 'https://lichess.org/training/oTIky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otiS0', 'Rapid', 'Graveyardshift', 1816, 'shayan621', 1835, 'c4,e5,g3,Nf6,Bg2,c6,Nc3,d5,cxd5,cxd5,d4,e4,Bg5,Nbd7,Nxd5,h6,Nxf6+,Nxf6,Bf4,Bb4+,Bd2,Qxd4', 'Qa4+,Bd7,Qxb4,Qxb4,Bxb4', 'https://lichess.org/training/otiS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OTjKp', 'Rapid', 'Massetor', 1934, 'zaunfink', 1862, 'e4,c5,Nf3,Nc6,Bc4,a6,a4,d6,O-O,g6,h3,Bg7,c3,Nf6,Re1,O-O,d4,cxd4,cxd4,Qb6,b3,e5,d5,Ne7,Nc3,Nd7,Be3,Nc5,Rb1,Qc7,b4,Nxe4,Nxe4,Qxc4,Ng3,Nf5,Nd2,Qxd5,Nge4,Nxe3,Rxe3,Rd8,Nc3,Qe6,Nde4,f5,Ng5,Qf6,Nf3,Be6,Nd5,Bxd5,Qxd5+,Kh8,Qxb7,e4,Nh2,d5,Rc1,Bh6,Rc6,Qa1+,Nf1,Bxe3,fxe3,d4,Rc7,d3', 'Rxh7+,Kg8,Qf7#', 'https://lichess.org/training/OTjKp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otKIR', 'Blitz', 'GM Grukjr', 2599, 'CM LUDVIG_CARLSSON', 2555, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,c5,Ne2,Nc6,Be3,O-O,O-O,Bg4,f3,Na5,Bd3,cxd4,cxd4,Be6,d5,Bxa1,Qxa1,f6,Bh6,Re8,Rb1,Bd7,e5,Be6,Nf4,Bxd5,exf6,exf6,Nxd5,Qxd5,Qxf6,Qf7,Qc3,b6,Be4,Rac8,Qa1,Red8,Rd1,Rxd1+,Qxd1,Qf6,h4,Rd8', 'Bd5+,Kh8,Bg5', 'https://lichess.org/training/otKIR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Otljb', 'Blitz', 'CM sanshiro', 2419, 'NM pashpash', 2414, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e3,O-O,b3,d6,Bb2,e5,d4,e4,Nd2,Re8,Be2,h5,b4,Bf5,a4,Nbd7,h3,h4,Qb3,c6,b5,c5,Nd5,Nxd5,cxd5,cxd4,exd4,Qg5,g4,e3,Nf3,Qf4,gxf5,exf2+,Kf1,Rxe2,Kxe2,Re8+,Kf1,Re3,Bc1,Rxb3,Bxf4,Rxf3,Bxd6,Bxd4,Rc1,Nf6,fxg6,fxg6,Rc8+,Kh7,Rc7+,Kh6,Bf8+,Kh5,Rxb7,Ne4,Rh7+,Kg5,Be7+,Bf6,Bxf6+,Kxf6,Kg2,Rg3+,Kf1,Rd3,Kg2,Rg3+,Kf1,Rf3,Kg2,Rf5,Rf1,Ke5,d6,Kxd6,Rxa7,Kc5,Ra6,g5,Rg6,Kb4,b6,Kxa4,b7,Rb5,Rxg5,Nxg5', 'Ra1+,Kb4,Rb1+,Kc4,Rxb5,f1=Q+,Kxf1', 'https://lichess.org/training/Otljb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otMgp', 'Classical', 'berries', 2140, 'Anatoliy_Glamazdin', 1926, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,Nf6,Bg5,Nbd7,e3,h6,Bh4,g5,Bg3,Ne4,Rc1,Bxc3+,bxc3,Nxg3,hxg3,f6,Bd3,c6,Bg6+,Ke7,cxd5,exd5,Nd2,Nb6,Qe2,f5,Nf3,Kf6,Ne5,Be6,g4,fxg4,Bb1,Kg7,Qd3,Qf6,O-O,Nc4,f4,Raf8,fxg5,Qxg5,Rxf8,Kxf8', 'Ng6+,Kg7,Nxh8', 'https://lichess.org/training/otMgp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtMP3', 'Rapid', 'Qgito', 1737, 'Mashina_m', 1675, 'e4,e5,Nf3,d6,h3,g6,d4,exd4,Nxd4,Bg7,Be3,c5,Nb5,Bxb2,Nxd6+,Kf8,Bxc5', 'Qa5+,c3,Qxc5', 'https://lichess.org/training/OtMP3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otnLb', 'Rapid', 'zazastar', 1706, 'Sektant57', 1678, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Nc3,Nc6,a3,Nf6,Nf3,h6,h3,Be7,Be3,O-O,Qd2,Kh7,Bd3,Ne5,Nh4,Nxd3+,Qxd3,g6,Nd5,Nxd5,exd5,Bxh4,g3,Bf6,O-O-O,Bg5,f4,Bf6,g4,a6,g5,hxg5,h4,gxh4,Bf2,Kg7,Rdg1,Rh8,f5,Bg5+,Kb1,Qf6,Bd4,Bxf5', 'Bxf6+,Bxf6,Qxf5', 'https://lichess.org/training/otnLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OTNYr', 'Rapid', 'NVenus', 1845, 'Shlok_g06', 1747, 'e4,c6,Nf3,d5,d3,dxe4,Ng5,exd3,Bxd3,Nf6,Nc3,e6,O-O,Bd6,Qf3,h6,Nge4,Nxe4,Nxe4,Bc7,Rd1,Nd7,b3,O-O,Qg4,e5,Bxh6,g6,Bxf8,Nxf8,Qf3,Bf5,Bc4,Qh4,Ng3,e4,Qe3,Bxg3,Qxg3,Qxg3,fxg3,Ne6,Bxe6,Bxe6,Rf1,Kg7,Rad1,Re8,c4,b5,cxb5,cxb5,Rd4,e3,Re1,Bf5,h3,e2,g4,Bc2,Rd2,Bd1,Kf2,a5,Rd5,a4,bxa4,bxa4,Rd4,a3,Rd3,Kh6,Rxa3,Kg5,g3,Re6,Ra5+,Kh6,Rc5,Rf6+,Kg2,Re6,Rc4,Kg5,h4+,Kh6,a4,Kg7,Rc3,f6,a5,Kf7,Ra3,Ra6,Kf3,Ke6,Kf4,Kd5,g5,f5,g4,Re6,gxf5,Re4+,Kf3,gxf5,a6,Rxh4,a7', 'Rh3+,Kf4,Rxa3', 'https://lichess.org/training/OTNYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otor8', 'Rapid', 'ianjl', 1843, 'Elsayed0099', 1807, 'Nf3,d6,g3,e5,Bg2,e4,Nd4,c5,Nb3,Nf6,Nc3,d5,O-O,Nc6,d3,Bf5,Nd2,exd3,exd3,Be7,Nf3,d4,Ne2,O-O,Bf4,Nh5,Re1,Bg4,h3,Nxf4,Nxf4,Bd7,Nd5,Bd6,c3,dxc3,Nxc3,Qf6,Ne4,Qh6,Nxd6,Qxd6,Qd2,Rad8,a3,h6,Rad1,Be6,Qc3,Rfe8,Rd2,b6,Red1,Qd7,h4,Bg4,Rc1,Qf5,d4,Nxd4,Nxd4,cxd4,Rxd4,Rc8,Rc4,Rcd8,Re1', 'Rxe1+,Qxe1,Rd1,Qxd1,Bxd1', 'https://lichess.org/training/otor8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oTovU', 'Rapid', 'adriana9', 1675, 'JuneS9804', 1679, 'f4,d5,b3,Nf6,Nf3,g6,a4,Bg7,Bb2,O-O,e3,c5,a5,Nbd7,Bb5,a6,Ba4,b5,axb6,Nxb6,Be5,Nxa4,bxa4,a5,d4,c4,Nc3,Bf5,O-O,Ra7,Rb1,Qd7,Rb5,Ne4,Rxd5,Nxc3', 'Rxd7,Nxd1,Rxa7', 'https://lichess.org/training/oTovU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtP22', 'Blitz', 'ashleesh21', 2393, 'IM italian5', 2414, 'd4,Nf6,Nf3,e6,c4,b6,Nc3,Bb7,Qc2,c5,Bg5,cxd4,Nxd4,h6,Bxf6,Qxf6,e3,a6,O-O-O,Qd8,Be2,Nc6,Bf3,Qc7,Nd5,Qd8,Nxc6,Bxc6,Nc3,Qc7,Nd5,Qb7,Kb1,Rc8,e4,a5,Rhe1,Bc5,Rd3,O-O,Bd1,Rfe8,Re2,Qb8,Nc3,Qxh2,Rg3,Qg1,Qd2,Kf8,Qf4,Bd4', 'Qd6+,Kg8,Qxd4', 'https://lichess.org/training/OtP22');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtP9n', 'Blitz', 'george_20', 1854, 'BrightLightNYC', 1855, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Nf6,Bxc6+,bxc6,O-O,Bf5,Ne5,Qc7,Bf4,e6,Ng6,Bd6,Bxd6,Qxd6,Nxh8,Ke7,Nxf7,Kxf7,Nc3,Qb4,Rb1,Qd6,Qf3,g5,h3,h5,Kh1,Rg8,Qg3,Qd7,Na4,Ne4,Qe3,g4,h4,g3,f3,Qe7,Qf4,Ke8,fxe4,Rg4,Qb8+,Kf7,Rxf5+,exf5,Qh8,Qxh4+,Kg1,Qh2+,Kf1,Qh1+,Ke2,Qxb1,Qh7+,Ke6,Qh6+,Kd7,Qh7+,Kd6', 'e5+,Ke6,Nc5#', 'https://lichess.org/training/OtP9n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otqIm', 'Rapid', 'Sid519', 1944, 'KaymazTR', 2048, 'e3,g6,Nc3,Bg7,b3,d6,Bb2,Nf6,Be2,O-O,h4,h5,Nh3,Nc6,a3,e5,Ng5,Ng4,Bxg4,Bxg4,f3,Bf5,g4,Bd7,gxh5,gxh5,Qe2,f6,Nge4,Bh6,Qg2+,Kh7,Rg1,Bf5,O-O-O,Rf7,Ng3,Be6,Nge2,Rg7,Qf2,Qg8,Rxg7+,Qxg7,Rg1,Qf7,Nb5,a6,Nxc7,Qxc7,Nc3,Rg8,Rxg8,Bxg8,Ne4,f5,Nf6+,Kg7', 'Ne8+,Kf8,Nxc7', 'https://lichess.org/training/otqIm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtQnB', 'Rapid', 'FJ_Messiah', 1892, 'seniyor', 1971, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Bf4,Bb4+,Nbd2,Nge7,a3,Bxd2+,Qxd2,Ng6,O-O-O,O-O,Nxd4,Ncxe5,Bxe5,Nxe5,Qc2,Qg5+,e3,c5,Nf3,Nxf3,gxf3,Bf5,Qc3,b6,Bd3,Be6,Rhg1,Qh6,Rg3,g6,Rdg1,Rad8,f4,f5,e4,Qxf4+,Kb1,fxe4', 'Rxg6+,hxg6,Rxg6+,Kf7,Qg7+,Ke8,Rxe6#', 'https://lichess.org/training/OtQnB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtQtT', 'Rapid', 'IQ02', 1635, 'kkostean', 1619, 'd4,e5,Nf3,e4,Ng5,d5,Bf4,h6,Nxf7,Kxf7,e3,Nf6,Nc3,Bb4,Be2,Rf8,a3,Bxc3+,bxc3,Nc6,O-O,Kg8,c4,Bf5,cxd5,Nxd5,Bc4,Ne7,Rb1,b6,Qh5,Kh8,Bg3,Nf6,Qe2,a6,f3,b5,Ba2,c5,c3,c4,fxe4,Nxe4,Be5,Nxc3,Qh5,Nxb1,Bxb1,Bxb1', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/OtQtT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtrKc', 'Rapid', 'sam1976', 1733, 'Amergoal', 1734, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,h6,c3,Be7,d4,exd4,cxd4,Nf6,e5,Nd5,Nc3,Nb6,Bc2,d5,O-O,Nb4,Bb1,Bg4,a3,Nc6,h3,Bxf3,Qxf3,Nxd4,Qd3,Nb3,Ra2,Nxc1,Rxc1,c6,Re1,Qd7,b4,Nc4,Bc2,Qe6,f4,f6,Qg6+,Qf7,Qg3,fxe5', 'Bg6,O-O,Bxf7+', 'https://lichess.org/training/OtrKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OTsCe', 'Blitz', 'NM gameoverbro', 2552, 'anton16072001', 2403, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,Be7,d4,exd4,Nxd4,O-O,O-O,Nc6,Nxc6,bxc6,Re1,Nd7,Bf4,Bf6,Qd2,Bb7,Rad1,Qe7,Bg3,Nb6,Bb3,c5,Bd5,Bxd5,Nxd5,Nxd5,exd5,Qd7,b3,c4,Qa5,Rfe8,h3,cxb3,axb3,a6,Rxe8+,Rxe8,Qxa6,Qf5,Qc6,Rc8,Re1,g6,b4,Bd4,b5,Bb6,c4,Ba5,Re3,h5,Rf3,Qb1+,Kh2,Rf8,h4,Qe4,Rf4,Qe2,Rf3,Qe4,Ra3,Bb6,Bxd6,Qxh4+,Rh3,Qxf2,c5,cxd6,cxb6,Qf4+,Kg1,Qd4+,Kf1', 'Qa1+,Ke2,Ra8', 'https://lichess.org/training/OTsCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtU7V', 'Rapid', 'Proha', 2182, 'sahuri12', 1900, 'd4,d5,c4,dxc4,Nf3,Nf6,Nc3,Bg4,e3,e6,a3,Nc6,Bxc4,Bd6,h3,Bxf3,Qxf3,O-O,O-O,Na5,Ba2,c6,b4,Nd5,Nxd5,cxd5,bxa5,Qxa5,Bb2,Qd2,Rfb1,Rac8,Qd1,Qa5,Qd3,Qd8,Rc1,Qg5,Rxc8,Rxc8,Bb1,g6,e4', 'Rc1+,Bxc1,Qxc1+,Qf1,Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/OtU7V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtUMg', 'Rapid', 'Kerubimchess', 1932, 'OldMillenial', 1746, 'f4,d5,Nf3,Nc6,b3,Nf6,e3,e6,Bb2,Bd6,Be2,Qe7,d3,e5,g3,e4,Nd4,Nxd4,Bxd4,Bc5,Nc3,Bxd4,exd4,c6,Qd2,O-O,O-O-O,Ng4,Rdf1,e3,Qe1,Nf2,Rhg1,Bh3,Nd1,Bxf1,Bxf1,Nxd1,Qxd1,Rfe8,Be2,f5,h3,b5,g4,a5,Qe1,Qa3+,Kb1,a4,b4,fxg4,Rxg4,Rf8,c3,Rf6,Qg1,g6,Qxe3,Qxc3,Qe5,Kf7,Qc7+,Kg8,Qe7,Rf7,Qe6,Qxd4,f5,Qf6,Qe3,Qxf5,Rh4,Kf8,Qh6+,Rg7', 'Rf4,Qxf4,Qxf4+', 'https://lichess.org/training/OtUMg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtUvS', 'Blitz', 'dumberchess', 2062, 'kingc6', 2101, 'e4,c6,Nf3,d5,Nc3,Bg4,Be2,e6,h3,Bh5,O-O,Nf6,d4,dxe4,Ng5,Bxe2,Qxe2,Qxd4,Be3,Qb4,Rad1,h6,Nxf7,Kxf7,Rd8,Kg8,Rfd1,Kh7,a3,Qxb2,Qc4,Qxc2,Qxe6,Qxc3,Qf5+,Kg8,Qe6+,Kh7,Qf5+,g6,Qe6,Bg7,Rxh8+,Kxh8,Rd8+,Kh7,Bd4,Qc1+,Kh2,Qf4+,Kg1,Qf5,Qf7,Nbd7,Rxa8,c5,Rg8,Nh5', 'Rxg7+,Nxg7,Qxg7#', 'https://lichess.org/training/OtUvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtvW1', 'Rapid', 'NeoPacificus', 1843, 'Ahmed_Refaat18', 1776, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,g6,Nd6+,Bxd6,Qxd6,Nge7,b4,O-O,b5,Nd4,Bd3,b6,Qxe5,Ne6,Bb2,f6,Qg3,Bb7,h4,Ng7,Qd6,Nc8,Qf4,d5,Nd2,dxe4,Nxe4,Ne6,Qh6,Bxe4,Bxe4,Nc5,Bxg6,hxg6,Qxg6+,Kh8,h5,Qe7+,Kf1,Nd6,Re1,Qg7,Re7,Qxe7,h6,Qh7', 'Bxf6+,Rxf6,Qxf6+', 'https://lichess.org/training/OtvW1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OtVyc', 'Rapid', 'tanishq-ruchitha', 1775, 'Abelsajan', 2110, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Nc6,Ndf3,Be7,Bd3,O-O,Ne2,cxd4,cxd4,Nb4,Bb1,a5,a3,Nc6,f5,exf5,Bxf5,Ndxe5,Bxh7+,Kxh7,Nxe5,Nxe5,dxe5,Bc5', 'Qc2+,Kg8,Qxc5', 'https://lichess.org/training/OtVyc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otW64', 'Rapid', 'Vax', 1808, 'Checkmate-777', 1807, 'e4,c5,Nf3,d6,Bb5+,Nd7,e5,a6,Bxd7+,Qxd7,exd6,exd6,O-O,Be7,Re1,Nf6,h3,O-O,d4,Re8,dxc5,dxc5,Bd2,b5,Ne5,Qc7,Nc3,Bb7,Bg5,Rad8,Qc1,h6,Bxh6,gxh6,Qxh6,Nh7,Qf4,Bf8,Re3,Bg7,Rae1,f6,Ng6,Qxf4,Rxe8+,Rxe8,Rxe8+,Kf7,Nxf4,Kxe8,Ne6,Bf8,f3,Ng5,Nf4,Kf7,Kf2,Bd6,Nd3,c4,Ne1,f5,b3,cxb3,cxb3,Bc5+,Ke2,Kf6,Nd3,Bd6,Nd1,Ne6,Ne3,Nf4+,Nxf4,Bxf4,Nc2,Bg3,a3,Ke5,Kd3,Bf2,Ke2,Bc5,b4,Be7,Kd3,Bd5,Ne3,Be6,Ke2,f4,Ng4+,Kd4,Kd2,Kc4,Kc2,Bf5+,Kb2,Bd3', 'Ne5+,Kd4,Nc6+,Kd5,Nxe7+', 'https://lichess.org/training/otW64');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otwe8', 'Rapid', 'Capzid', 1800, 'MarcaoSelva', 1809, 'e3,e5,Bc4,d6,a3,c6,d3,Qf6,e4,Be7,Nf3,h6,O-O,Qg6,Be3,Bh3,Ne1,Nd7,Qf3,Bg4,Qg3,h5,f3,Be6,Qxg6,fxg6,Bxe6,Ngf6,Bg5,O-O-O,Nd2,Kc7,b4,h4,c4,h3,Bxh3,Nh5,Bxe7,Rde8,Bh4,Nf4,Bxd7,Kxd7,Bf2', 'Ne2+,Kh1,Rxh2+,Kxh2,Rh8+,Bh4,Rxh4#', 'https://lichess.org/training/otwe8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('otWVX', 'Rapid', 'Khajim', 1794, 'Tsogtgerel', 2194, 'd4,d5,Bf4,e6,Nc3,Bd6,Bg3,c6,e3,Qe7,a3,e5,Bd3,Nf6,Nf3,e4,Bxd6,Qxd6,Ne5,exd3,Qxd3,O-O,h4,Nbd7,Nf3,Re8,O-O-O,Ne4,Rdf1,Ndf6,Ne5,Nxc3,bxc3,Ne4,f3,Ng3,h5,h6,Rfg1,Nxh1,Rxh1,Qxa3+,Kd2,Qd6,g4,Qf6,g5,Qxg5,Rh2,Bf5,Qe2,Qf6,f4,Be4,Qg4,a5,Rh1,a4,Rg1,a3', 'Nd7,Qg6,hxg6', 'https://lichess.org/training/otWVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oTyCk', 'Classical', 'bani_reo', 1994, 'ryfo384', 1844, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bb5,Bg4,Be3,e6,O-O,Ne7,c3,a6,Ba4,Rc8,Nbd2,Nf5,Bg5,Qb6,Rb1,h6,Bh4,Nxh4,Qe1,Nxf3+,Nxf3,Bxf3,gxf3,Bd6,Bb3,O-O,Kh1,Qc7,Rg1,Bxh2,Rg2,Bd6,Qe3,Bf4,Qd3,Kh8,Bc2,f5,Rbg1,Rf7,Rg4,Rg8,Rh4,Bg5,Rxg5,Qe7,Rgh5,Rf6,Qe3,Nd8,Rh2,Nf7,Bxf5,g6,Rxh6+,Nxh6', 'Qxh6+,Qh7,Qxh7#', 'https://lichess.org/training/oTyCk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OTyIM', 'Blitz', 'blitzchaser', 2083, 'Morozov-belayberezka', 2041, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qf6,Qd2,Qh4,Nc3,Nd4,Bc4,Nf6,O-O,Ng4,h3,Nf6,f4,d6,Bd5,O-O,Qd3,Nh5,f5,Rb8,Be3,b5,Bxd4,exd4,Qxd4,Ng3,Rf3,Nxf5,Qd3,Ne7,Raf1,Nxd5,Nxd5,Bb7,Nf6+,gxf6,Rg3+,Kh8,Rg4,Qh5,Qxd6,Qe5,Qd2,Rg8,Rf5,Qe6,Rh4,Bxe4', 'Rxh7+,Kxh7,Rh5+,Kg6,Qh6#', 'https://lichess.org/training/OTyIM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OTz4d', 'Rapid', 'ajbr', 1644, 'JanoyCresva', 1696, 'd4,d5,e3,Nf6,Bd3,e6,Nd2,c5,c3,c4,Bc2,Nc6,f4,Bd6,Ngf3,O-O,O-O,h6,Ne5,Bxe5,dxe5,Nd7,g4,f6,exf6,Nxf6,g5,hxg5,fxg5,Ne4,Nxe4,dxe4,Qxd8,Rxd8,Bxe4,Ne5,b3,cxb3,axb3,a6,Ba3,Ng4,Bc5,Rb8,Rfd1,Bd7,Rd6,Ne5,Bd4,Nf7,Rb6,Nxg5,Rxb7', 'Nxe4,Rxb8,Rxb8', 'https://lichess.org/training/OTz4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OTznp', 'Rapid', 'Taaoiu', 1732, 'mokino52', 1725, 'e4,e5,Nf3,f6,Bc4,d6,d4,Bg4,dxe5,fxe5,Nc3,Nf6,h3,Bh5,g4,Bg6,Nd5,Nxe4,Ne3,a6,h4,Nc5,h5,Be4,Nxe5,dxe5', 'Bf7+,Kxf7,Qxd8', 'https://lichess.org/training/OTznp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OU00l', 'Rapid', 'bachchukwt', 1864, 'Benzua', 1951, 'e4,c5,Nf3,d6,Bc4,Bd7,Nc3,e6,d4,Be7,dxc5,dxc5,O-O,a6,Ne5,Nf6,Nxd7,Qxd7,Qe2,O-O,e5,Nd5,Nxd5,exd5,Bd3', 'c4,Bxc4,dxc4', 'https://lichess.org/training/OU00l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oU02S', 'Rapid', 'rooooks', 1668, 'Lejuif', 1663, 'd4,e5,dxe5,d6,exd6,Bxd6,Nf3,Be6,e4,Nc6,Bb5,f6,O-O,Qd7,c4,O-O-O,Be3', 'Bxh2+,Kxh2,Qxd1,Rxd1,Rxd1', 'https://lichess.org/training/oU02S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ou1Gl', 'Rapid', 'Evening_Shadow', 1767, 'loggik', 1720, 'e4,c5,Nf3,e6,c3,d5,d4,Nc6,Bb5,dxe4,Ne5,Qc7,O-O,Bd6,Bf4,Nf6,Bxc6+,bxc6,Qa4,Bb7,dxc5', 'Bxe5,Bxe5,Qxe5', 'https://lichess.org/training/Ou1Gl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ou1QU', 'Blitz', 'hrrousso', 1742, 'maadim', 1802, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bf5,d4,e6,Be2,c6,O-O,Nd7,Bd2,Qc7,a4,Ngf6,h3,Bd6,a5,h5,Nh4,Bh7,Nf3,Ng4,hxg4,hxg4,Ng5,Bh2+,Kh1,Bxc2,Qxc2', 'Bg1+,Qh7,Rxh7+,Kxg1,Qh2#', 'https://lichess.org/training/ou1QU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ou316', 'Rapid', 'boraleval', 2042, 'FRACU', 2045, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Be3,Nc6,Nf3,a6,Be2,b5,a3,Qb6,Na2,cxd4,Nxd4,Bc5,c3,O-O,Nb4,Bb7,Nbxc6,Bxc6,Qd3,f6,b4,Bxd4,Bxd4,Qc7,exf6,Nxf6,g3,Ne4,O-O,Be8,Bg4,Qd7,Be5,Bg6,Qd4,Rac8,Rfe1,Rc4,Qb6,Rc6,Qe3,Bf5,Bf3,Qc8,Rac1,Nd6,g4,Nc4,Qd4,Bg6,Bxg7,Rf7,Bf6,Nxa3,f5,exf5,gxf5,Bxf5,Kh1,Rd6,Rg1+,Bg6,Bxd5,Qf5,Rcf1', 'Qxd5+,Qxd5,Rxd5', 'https://lichess.org/training/Ou316');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OU4Hw', 'Rapid', 'gvilaplana', 2023, 'Vitorhugo1', 1924, 'c4,Nf6,g3,d6,Bg2,Nbd7,Nc3,e5,d3,Be7,e4,Rb8,Nge2,c5,O-O,a6,a4,O-O,f4,h6,f5,Nh7,Nd5,Ndf6,Nec3,Nxd5,Nxd5,Nf6,Nxe7+,Qxe7,g4,Nh7,Qf3,b5,axb5,axb5,b3,bxc4,bxc4,Ng5,Qg3,Rb3,h4,Nh7,g5,hxg5,hxg5,g6,f6,Qe6,Kh2,Qg4,Qe3,Qh4+,Kg1,Be6,Rf3,Bxc4,Rh3,Qg4,Ra3,Qd1+,Kh2,Rxd3,Rxd3,Qxd3', 'Qxd3,Bxd3,Rxd3', 'https://lichess.org/training/OU4Hw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ou8GV', 'Rapid', 'cris4mate', 1825, 'Martian64', 2142, 'c4,Nf6,Nc3,c5,e3,e6,Nf3,d5,d4,cxd4,exd4,dxc4,Bxc4,a6,O-O,Nc6,Be3,Bd6,h3,Qc7,Qc2,Bd7,Rfe1,Rc8,a3,Nb4,axb4,Qxc4,Nd2,Qxb4,Nde4,Nxe4,Qxe4,Qxb2,Nd5,Bc6,Nf6+,gxf6,Qh4,Ke7,Rad1,Rhg8,d5,Bxd5,Rxd5,exd5', 'Bd4+,Kd7,Bxb2', 'https://lichess.org/training/ou8GV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OU8vI', 'Rapid', 'ALEX_Gontsov', 1841, 'Drivereasy', 1843, 'e4,e6,d4,d5,exd5,exd5,Nf3,c6,Bd3,g6,O-O,Bg7,Re1+,Ne7,c3,O-O,h3,Nf5,Bg5,Qb6,b3,a6,Nbd2,Be6,Nh4,Nxd4,cxd4,Qxd4,Bc2,h6,Nhf3', 'Qxa1,Qxa1,Bxa1', 'https://lichess.org/training/OU8vI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OU8wi', 'Blitz', 'ASergA', 1690, 'Pantikan', 1690, 'e4,d6,f4,Nf6,d3,g6,Nf3,Bg7,Be2,O-O,c3,a6,O-O,b5,f5,c5,Qe1,Bb7,Qh4,Nbd7,Bg5,Qb6,Kh1,c4,d4,Bxe4,Bxf6,Nxf6,fxg6,fxg6,Ng5,Qc6,Rxf6,Bxg2+,Kg1,Rxf6,Qxh7+,Kf8,Qh4,Ke8,Nd2,Bh1,Ndf3,Bxf3,Bxf3,d5,Re1,Kd8,Nh7,Rxf3,Qxe7+,Kc8,Qxg7,Qc7,Re8+,Kb7,Re7,Rc8,Rxc7+,Rxc7,Qxg6,Rff7,Qd6,Rxh7,Qxd5+,Ka7,Qe4,Rcg7+,Kh1,Re7,Qf3,Re1+,Kg2,Rg7+,Kf2,Rb1,Qd5,Rxb2+,Ke3,Re7+,Kf4,Rf2+,Kg5,Rg7+,Kh6,Rb7,Qc5+,Ka8,Qc6,Rxh2+,Kg5,Rh7,Qxa6+,Ra7,Qd6,Rhg7+,Kf4,Rgf7+,Ke5', 'Rae7+,Kd5,Rd7,Qxd7,Rxd7+', 'https://lichess.org/training/OU8wi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oU8yg', 'Classical', 'abbop', 1841, 'GaRo1991', 1851, 'd4,Nf6,c4,d5,e3,e6,Nf3,Be7,Nc3,c5,Bd3,dxc4,Bxc4,cxd4,exd4,O-O,h3,Qa5,O-O,b6,Bd2,Bb7,Nd5,Qa4,Qxa4,Nxd5,Bxd5,Bxd5,Qb5,Nc6,Rac1,Na5,b3,Bd6,b4,Nb7,a4,Rab8,Qd3,Nd8,Ng5,f5,Nf3,Nc6,Rb1,Be4,Qc4,Bxb1,Qxe6+,Kh8,Rxb1,Rbd8,Bg5,Rfe8,Qc4,Rc8,Qd5,Bxb4,Ne5,Nxe5,dxe5,Bc5,e6,h6,Be3,Rcd8,Qxf5,Be7,Bf4,Rf8,Qe5,Bd6,Qe4,Rxf4,Qe3,Rxa4,Re1,Re8,f4', 'Bc5,Qxc5,bxc5', 'https://lichess.org/training/oU8yg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ouAXF', 'Classical', 'maska25', 1706, 'professional_blunder', 1794, 'd4,Nf6,f4,b6,e3,Bb7,Nf3,Ne4,Bd3,c5,c3,e6,Bxe4,Bxe4,Nbd2,Bb7,O-O,Be7,Ne5,O-O,Nef3,d5,Ne5,f6,Nef3,Nd7,Nb3,c4,Nbd2,Rf7,Qc2,Qc7,Qd1,e5,fxe5,fxe5,Nxe5,Nxe5,dxe5,Rxf1+,Qxf1,Rf8,Nf3,Bc5,a3,a5,Bd2,a4,Qe2,Qc6,Qd1,Bc8,h3,Bf5,Qe1,Be4,Qg3,Bxf3,gxf3,h6,f4,Re8,Kf2,Rf8,Rg1,Qc7,Qg6,Rxf4+,Ke2,Qxe5,Rg3,Rf8,Kd1,Qf6,Qxf6,Rxf6,Ke2,Kf7,Rg4,Re6,h4,Rg6,Rf4+,Rf6,Rg4,h5,Rg5,g6,Rxd5,Rf5,Rxf5+,gxf5,Kf3,Kf6,Kf4,Bd6+,Kf3,Ke5,Be1,Be7,Bg3+,Kf6,Bf4,Ke6,Bg3,Bd6', 'Bxd6,Kxd6,Kf4,Ke6,Kg5,Ke5,Kxh5', 'https://lichess.org/training/ouAXF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oUBkn', 'Blitz', 'Bachbach', 1857, 'Jam1953g', 1828, 'e4,c5,d4,cxd4,c3,d3,Bxd3,Nc6,Nf3,d6,O-O,Nf6,Qe2,e6,c4,Be7,b3,Bd7,Bb2,O-O,Nbd2,e5,Rfd1,h6,Nf1,Qc7,Ne3,g6,Nd5,Qd8,Ne1,Bg4,f3,Be6,Qe3,Kh7,Rd2,Nh5,f4,exf4,Nxf4,Nxf4,Qxf4,Bg5,Qf2,Bxd2,Qxd2,Ne5,Be2,Qg5,Qxg5,hxg5,Rd1,Rad8,Nf3,f6,Nd4,Bc8,a4,g4,b4,Rfe8,b5,Kg7,a5,Be6,Nxe6+,Rxe6,c5,Nf7,c6,bxc6,bxc6,Rc8,Rc1,Rxe4,Ba6,Rc7,Ba3,d5,Bb7,Ne5', 'Bd6,Rxc6,Bxc6,Nxc6,Rxc6', 'https://lichess.org/training/oUBkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OuCdf', 'Blitz', 'CCNCIPATAT154', 1867, 'Nuritdin60', 1927, 'd4,d5,f4,Nc6,Nf3,Bf5,a3,Nf6,e3,e6,c4,Be7,b4,dxc4,Bxc4,a6,O-O,O-O,Nc3,Ne4,Nxe4,Bxe4,Bd3,Bxd3,Qxd3,Bf6,Bb2,Qd7,Rad1,Rfd8,Qc4,Qd5,Qd3,Qa2,Rf2,e5,d5,e4,Qxe4,Bxb2,Ng5,g6,Rfd2,Qxa3,dxc6,Rxd2,Rxd2,bxc6,Kf2,Bc3,Qe7,Qb3,Rd8+,Rxd8,Qxd8+,Kg7,Qxc7,Bxb4,Qe5+,Kg8,Qe8+,Kg7,Qxc6,a5,Ne4,a4,Qf6+,Kg8,Nd6,Qe6', 'Qd8+,Kg7,Ne8+,Qxe8,Qxe8', 'https://lichess.org/training/OuCdf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OUcJP', 'Bullet', 'backflip46', 1672, 'DAFE', 1664, 'e4,h5,d4,h4,h3,d6,Nf3,a6,Bg5,f6,Bxh4,g5,Bg3,Be6,Nc3,Nd7,d5,Bf7,Qd4,Bg7,O-O-O,Bg6,h4,Rh7,Qe3,g4,Nh2,e5,dxe6,Ne5,Bxe5,fxe5,Nxg4,Bh5,Kb1,Bxg4,Be2,Bxe2,Nxe2,Rxh4,Qg3,Rxh1', 'Qg6+,Kf8,Qf7#', 'https://lichess.org/training/OUcJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OUEsl', 'Rapid', 'leroma84', 1727, 'yasarcilek6', 1715, 'Nf3,d5,d4,e6,a3,Nf6,Nc3,Nc6,Bg5,Be7,e3,h6,Bh4,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Nd2,O-O,Nxe4,b6,Be2,Bb7,Bf3,Rab8,Nd2,e5,dxe5,Qxe5,c3,Rbd8,Qe2,Rd6,Nc4,Qc5,Nxd6,Qxd6,Rd1,Qf6,O-O,Ra8,b4,a6,c4,b5,c5,Rb8,Rd2,Ne5,Bxb7,Rxb7,Rfd1,Qe6,Rd8+,Kh7,Qc2+,g6,h3,c6,R8d6,Qe7,h4,Qxh4,R1d4,Qg5,Kf1,Qh5,Kg1,Re7,Rf4,Qg5,a4,Nc4,Rxc6,Qd5,Rcf6,bxa4,Rxc4,a3,Rd4,Qe5,Rxa6,Qg5,Ra8,Rxe3,Rdd8', 'Re1+,Kh2,Qh4#', 'https://lichess.org/training/OUEsl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oueX7', 'Rapid', 'paresh_pandya', 1696, 'Aequumm', 1676, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Nc3,g6,O-O,Bg7,a3,O-O,d3,d6,Bg5,a6,h3,b5,Bd5,Bb7,b4,Rb8,Rc1,Ne7,Ba2,c6,Qd2,d5,exd5,cxd5,Nxe5,Nd7,Nxd7,Qxd7,Bxe7,Qxe7,Bxd5', 'Bxc3,Qxc3,Bxd5', 'https://lichess.org/training/oueX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OufTk', 'Classical', 'Eoin-God', 1714, 'yessimus', 1713, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nxe4,Bd3,Nxc3,bxc3,d5,Nf3,Nc6,O-O,O-O,h4,e5,Bxh7+,Kh8,Ng5,Qf6,Qxd5,Be6,Qd3,g6,Bxg6,Qxg6', 'Qxg6,fxg6,Nxe6', 'https://lichess.org/training/OufTk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oufWj', 'Classical', 'moremi', 1817, 'Parkermc', 1830, 'e4,c5,Bc4,Nc6,Nf3,e6,Nc3,Nf6,O-O,Be7,e5,Ng4,Re1,a6,h3,Nh6,d3,Nf5,a3,O-O,Ne4,Qc7,Bg5,Nxe5,Nxe5,Qxe5,Nf6+,Bxf6,Rxe5,Bxe5,g4,Nd6,Be7,Re8,Bxd6,Bxd6,d4,b5,Be2,Bb7,dxc5,Bxc5,Qxd7,Rab8,b4,Red8,Qc7,Bd6,Qc3,Rbc8,Qb3,Bd5,Qb2,f6,Bd3,Be5,Qb1,Rd7,a4,Bxa1,Qxa1,Kf7,axb5,axb5,Bxb5,Rdc7,Bd3,Ra8,Qb2,e5,b5,Rca7,c4', 'Ra1+,Bf1,Bxc4', 'https://lichess.org/training/oufWj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OUgl4', 'Rapid', 'KapilArora', 1819, 'Salihcakici', 1957, 'd4,d5,Bf4,Nf6,Nf3,e6,c3,Bd6,Be5,Nc6,Bxd6,Qxd6,e3,O-O,Bd3,e5,dxe5,Nxe5,Nxe5,Qxe5,O-O,Bg4,Be2,h5,Nd2,Bxe2,Qxe2,Ng4,Nf3,Qe6,h3,Ne5,Nd4,Qg6,f4,Nc4,b3,Nd6,f5,Qg5,Rf3,h4,Raf1,Rae8,Rf4,Re4,Nf3', 'Qxf4,exf4,Rxe2', 'https://lichess.org/training/OUgl4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oUH9e', 'Rapid', 'Madom', 1900, 'odic3o', 1849, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,a6,Nf3,b5,a3,g6,Bd3,Bg7,O-O,O-O,Bg5,Re8,Re1,Qc7,Rc1,Nbd7,Qd2,Ng4,h3,Nge5,Be2,Nxf3+,Bxf3,Ne5,Be2,Bd7,Bh6,Bh8,f4,Nc4,Bxc4,bxc4,Qe2,Rab8,Rc2,Bb5,a4,Bd7,Qxc4,Rb4,Qxa6,Bxc3,Rxc3,Rbxe4,Rxe4,Rxe4,Qa8+,Be8,Rb3,c4,Rb7,Qc5+,Kh2,Qxd5,Rb8,Qxa8,Rxa8,d5,a5,f6,a6,Kf7,a7,Re7,g4,d4,Kg2', 'Bc6+,Kf2,Bxa8', 'https://lichess.org/training/oUH9e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ouKwe', 'Rapid', 'apis16', 1722, 'bieke', 1848, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Nc3,Bb7,Be3,Qf6,O-O-O,O-O-O,f3,Bc5,Qd3,Bxe3+,Qxe3,d6,Nd5,Qe6,Qa3,Kb8,Ba6,Ne7,Bxb7,Kxb7,c4,c6,Nxe7,Qxe7,Rd3,c5,Rhd1,Rhe8,Rd5,Qf6,Qd3,Kc6,e5,Rxe5,Rxe5,Qxe5,Qxh7,Qg5+,Rd2,Re8,Qd3,Re6', 'Qd5+,Qxd5,cxd5+,Kd7,dxe6+', 'https://lichess.org/training/ouKwe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OuKzY', 'Blitz', 'AraPawn', 1631, 'sneeru', 1605, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,g6,Nc3,Bb4,Bd2,Nf6,Bd3,O-O,a3,Be7,O-O,d5,exd5,Nxd5,Be4,Nxc3,Bxc3,Bf6,Nc5,Rb8,Qf3,Nd4,Bxd4,exd4,Rad1,b6,Nb3,Bg7,Nxd4,Bxd4,c3,Bxf2+,Rxf2,Qe7,Bd5,Be6,Rdf1,Rbd8,Be4,Rd7,Bc6,Rc7,Ba4,a6,Qg3,b5,Bc2,Bc4,Rd1,Rd8,Rxd8+,Qxd8,h4,Qe7,h5,g5,Kh2,h6,Qf3,Kg7,Qf5,Qd6+,g3,Re7', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/OuKzY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OUMCi', 'Classical', 'Obodrit', 1861, 'foreversanlinn', 1801, 'e4,e5,Nf3,Nc6,d4,d6,Bc4,Bg4,Nc3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,dxe5,Nxe5,Bb3,Be7,h3,O-O,f4,Nc6,Bd2,Rfe8,O-O-O,a5,a3,Nd7,Nd5,Rac8,g4,Nc5,Rde1,Bh4,Re2,Nd4,Re3,Bf2,Rc3,Ne2+,Kd1,Nxc3+,Bxc3,Nxe4,Bxa5,Bb6,Bxb6,cxb6,Re1,Nf2+,Kd2,Rxe1', 'Kxe1,Nxh3,Ne7+,Kf8,Nxc8', 'https://lichess.org/training/OUMCi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oumUU', 'Classical', 'Asc3nsion', 1719, 'Cantuna7', 1748, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bd3,Nf6,O-O,Nc6,Be3,b5,Qf3,Bb7,Nxc6,Bxc6,Bg5,Be7,Bf4,d6,Qg3,e5,Bd2,Qb7,Rfe1,g6,Qf3,Bd7,h3,O-O,Bg5,Kg7,h4,Bg4', 'Bxf6+,Bxf6,Qxg4', 'https://lichess.org/training/oumUU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OuOLG', 'Rapid', 'Elbomat', 2159, 'NiklasGerdau', 1986, 'd4,Nf6,Nf3,d5,c4,c6,e3,Bf5,Nc3,e6,Nh4,Bg6,Nxg6,hxg6,Bd2,Nbd7,Qb3,Qc7,g3,Bd6,Bg2,Ng4,c5,Be7,h3,Ngf6,O-O-O,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bf4,Qc8,Bf3,Nd5,Bxd5,cxd5,Kb1,b6,cxb6,axb6,Rc1,Qb7', 'Rc7,Qa6,Rxe7', 'https://lichess.org/training/OuOLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OUpNS', 'Rapid', 'SusiSwift', 2136, 'Apagafuegos', 2050, 'e4,c5,Nc3,g6,Nf3,Bg7,Be2,Nc6,O-O,d6,Bc4,Nf6,d3,O-O,a4,Nb4,Qd2,Bg4,Ne1,d5,Nxd5,Nfxd5,exd5,Nxd5,Bxd5,Qxd5,h3,Bd7,Qe2,Bc6,Nf3,e5,a5,Rae8,a6,b6,c4,Qd6,Re1,f5,Qd2,Rd8,Ra3,Rfe8,Rb3,h6,Qe2,e4,dxe4,Bxe4,Re3,Bd4,Ra3', 'Bxf3,Qxe8+,Rxe8,Rxe8+,Kf7', 'https://lichess.org/training/OUpNS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OuQeC', 'Blitz', 'Popeye12', 1919, 'zeus2016', 1912, 'd4,b6,c4,Bb7,Nc3,d6,e3,e6,Nf3,g6,Be2,Bg7,O-O,Ne7,Rb1,O-O,b3,Nd7,Bb2,c6,Re1,d5,e4,a5,e5,c5,a4,cxd4,Qxd4,Nf5,Qd2,Nc5,Qc2,dxc4,bxc4,Qc8,Nb5,Qc6,Nd6,Nxd6,exd6,Qxd6,Red1,Qc6,Bxg7,Kxg7,Qb2+,Kg8,Qxb6,Rab8,Qxc6,Bxc6,Ne5,Bxa4,Rxb8,Rxb8,Ra1,Rb2,Kf1,Rb4,Nd3,Nxd3,Bxd3,Kg7,Ke2,Rb2+,Ke3,Bc2,Rxa5,Bxd3,Kxd3,Rxf2,Rg5,h6,Rg3,Ra2,c5,Ra8,Kc4,Rc8,Kb5,Kf6,c6,Ke7,Rd3,e5,Kb6,e4,Rd1,e3,Kb7,Re8,c7,e2', 'Re1,Kd7,Rxe2,Rxe2,c8=Q+', 'https://lichess.org/training/OuQeC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oUqmg', 'Blitz', 'zapo71', 1625, 'cih2001', 1618, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,d6,c3,Nf6,d3,Be7,O-O,O-O,h3,Re8,Re1,Nd7,Nbd2,Nc5,Bc2,Be6,Nf1,Qd7,Ng3,Rf8,Bg5,f5,Bxe7,Qxe7,exf5,Bxf5,Nxf5,Rxf5,d4,Rxf3,gxf3,Ne6,d5,Nf4,dxc6', 'Qg5+,Kf1,Qg2#', 'https://lichess.org/training/oUqmg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OuQYN', 'Blitz', 'rudylikeruby', 1923, 'DolamiteD', 1909, 'd4,c6,Nc3,d5,Nf3,Bf5,e3,e6,Bd3,Bg6,Bxg6,hxg6,h3,Nh6,O-O,Bd6,Ne5,Bxe5,dxe5,Qc7,f4,Nf5,Qf3,Nd7,Bd2,O-O-O,a4,d4,Ne4,dxe3,Bxe3,Nb6,g4,Nd4,Bxd4,Rxd4,Nd6+,Rxd6,exd6,Qxd6,Rfd1,Qc5+,Kg2,Qxc2+,Kg3,Nd5,a5,f5,g5,Qc4,a6,b6,Rac1,Qb5,Ra1,Re8,Rdc1,e5,fxe5,Rxe5,Re1,f4+,Kg4,Ne3+,Kh4,Nf5+,Kg4,Nh6+,gxh6,Rg5+,Kh4', 'Rh5+,Qxh5,Qxh5#', 'https://lichess.org/training/OuQYN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ouRQT', 'Rapid', 'montillo2017', 1681, 'Aveyr1224', 1686, 'd4,d6,Nf3,Nf6,c4,Nbd7,e3,c6,Nc3,e5,dxe5,dxe5,e4,Qc7,Be2,Bb4,Bd2,Bxc3,Bxc3,Nxe4,Qc2,Nxc3,Qxc3,O-O,O-O,Re8,Rad1,c5,Rd5,f6,b4,b6,Rfd1,Nf8,bxc5,bxc5,Qd3,Be6,Rd6,Rac8,Nh4,g6,g4,g5,Nf5,Bxf5,Qxf5,Rcd8,Qxf6,Qe7', 'Qxe7,Rxe7,Rxd8', 'https://lichess.org/training/ouRQT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oUSWd', 'Classical', 'antonio48', 1785, 'K00k', 1839, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d3,Bb4+,Nc3,Nc6,Nf3,Qe7,Be2,O-O-O,O-O,Bxc4,Qc2,Be6,Ng5,Nd4,Qa4,Nxe2+,Nxe2,Bg4,f3,Bc5+,d4,Bd7,Qc2,Bb6,Kh1,h6,Ne4,Nd5,a3,Rhe8,N2c3,Bc6,Nxd5,Bxd5,Be3,f5,Nc5,Bxc5,dxc5,Qxe3,Qxf5+,Be6,Qc2,Bd5,b4,a6,a4,Qe5,b5,axb5,axb5,c6,b6,Kd7,h3,Re7,Ra7,Rb8,Raa1,g5,Qg6,Qg7', 'Qd6+,Ke8,Qxb8+', 'https://lichess.org/training/oUSWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OuSY2', 'Blitz', 'kubus3345', 1875, 'vvoo', 1928, 'e4,d6,d4,Nf6,Nc3,Nbd7,f4,e5,fxe5,dxe5,d5,Bb4,Bd3,O-O,Bd2,Nc5,Nf3,Bg4,Qe2,c6,O-O-O,cxd5,Nxd5,Bxd2+,Rxd2,Nxd5,exd5,Re8,h3,e4,hxg4,exd3,Qf2,Qxd5,Kb1,dxc2+,Rxc2,Re6,Qxc5,Qd3,Qc3,Qg6,Ka1', 'Rc6,Qxc6,bxc6', 'https://lichess.org/training/OuSY2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OutjE', 'Rapid', 'chessbham', 1749, 'sachaken78', 1722, 'd4,e6,Nf3,d5,e3,c5,b3,Nc6,Bb2,Nf6,a3,cxd4,exd4,Be7,Bd3,O-O,O-O,Bd7,Ne5,Nxe5,dxe5,Ne8,Qh5,g6,Qh6,Ng7,Nd2', 'Bg5,Qh3,Bxd2', 'https://lichess.org/training/OutjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oUTRM', 'Blitz', 'abedinov', 2527, 'FM lefonghua', 2676, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,e4,d6,Nge2,c5,O-O,Nc6,d3,Nd7,h3,a6,Be3,Nd4,Rc1,Rb8,b3,b5,f4,e6,Kh2,f5,Ng1,b4,Nce2,Bb7,Qd2,Qe7,Rce1,a5,Bxd4,cxd4,Nf3,fxe4,Nfxd4,exd3,Qxd3,Nc5,Qc2,Bxg2,Kxg2,Qb7+,Kh2,Rbe8,Nb5,Rd8,Ned4,Rfe8,Qg2,d5,Rd1,Ne4,Nxe6,Rxe6,cxd5,Ree8,Rfe1,Nc3,Nxc3,Bxc3,Rxe8+,Rxe8,d6,Qxg2+,Kxg2,Kf7,Rd5,Rd8,Rxa5,Rxd6,Kf3,h5,f5,gxf5,Rxf5+,Kg6,Ra5,Rd3+,Kf4,Rd2,g4,h4,Ra6+,Kg7,Kg5,Rd5+,Kf4,Rd3,Kg5,Rxh3,Ra7+,Kf8,Ra8+,Ke7,Ra7+,Kd6,Kf4,Rh2,g5,Bd2+,Kf5,Rg2,Ra6+,Kd5,g6,Bc3,Ra7,h3,Rh7,h2,Rh5,Kd4,g7,Rxg7,Rh4+,Kc5,Rxh2,Rd7,Ke6,Rd5,Rh7,Rd6+,Ke7,Rd5,Ke6,Kd4', 'Rh4+,Kc5,Rc4+,Kb6,Kxd5', 'https://lichess.org/training/oUTRM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OuunM', 'Rapid', 'goran_milosevic', 2171, 'Viktorvvv', 1993, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,Qe2,Nc6,d4,e4,Bf4,Nxd4,Nxd4,Qxd4,Rd1,Qa4,Bxc7,Bc5', 'Rd8+,Ke7,Rxh8', 'https://lichess.org/training/OuunM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OUy2z', 'Rapid', 'GuiAlmeidaSM', 1890, 'Drivereasy', 1838, 'Nf3,d5,c4,c6,Nc3,d4,Ne4,Bf5,Ng3,Bg4,Ne5,Be6,e3,Nf6,exd4,Qxd4,Nf3,Qb6,d4,Bxc4', 'Bxc4,Qb4+,Nd2', 'https://lichess.org/training/OUy2z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OUyiz', 'Rapid', 'Grabeel', 1716, 'voz3', 1667, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,g3,d5,exd5,Qxd5,Nf3,Qxd1+,Kxd1,Nc6,Bg2,Nf6,c3,Bc5,Re1,Bxf2,Re2,Ba7,Be3,Bxe3,Rxe3,Nd5,Re1,O-O,Ne5,Nxe5,Rxe5,Rd8,Ke2,f6,Re4,e5,Kf1,Bf5,Re1,Rd7,Nd2,Rad8,Nb3,Bd3+,Kg1,b6,a4,Bc4,Nd2,Bd3,a5,b5,Nb3,Ne7,Nc5,Ra7,Rad1,b4,Nxd3,bxc3,bxc3,Rad7,Nb2,Kf7,Rxd7,Rxd7,Rd1,Rc7,c4,Ke6,Kf2,f5,Bf1,Rc5,Ra1,e4,Ke3,Ke5,Ra4,g5,Rb4,Rxa5,Rb7,Nc6,Rxh7,Ra2,Rc7,Rxb2,Rxc6', 'f4+,gxf4+,gxf4#', 'https://lichess.org/training/OUyiz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OUYoE', 'Blitz', 'Karkas01', 1805, 'ViktorSHAROV', 1790, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,Be7,O-O,Nf6,Nc3,O-O,d3,a6,a4,h6,Be3,Be6,Bxe6,fxe6,Nh2,d5,exd5,exd5,Bd2,Bd6,Ng4,Nxg4,Qxg4,Kh8,f4,exf4,Bxf4,Bxf4,Rxf4,Rxf4,Qxf4,d4,Ne4,Qe7,Rf1,Ne5,Ng3,c5,Kh1,Ng6,Qf7,Qxf7,Rxf7,b6,Nf5,Rf8,Rxg7,Ne5,Rb7,Rxf5,Rxb6,Nd7,Rxh6+,Kg7,Rxa6,Kf7,Ra7,Ke6,Kg1,Re5,Ra6+,Kd5,Kf1,Rf5+,Ke2,Nb8,Rg6,Nc6,h4,Nb4,g4,Re5+,Kd2,Re3,h5,Rg3,h6,Rg2+,Kd1,Nxc2,g5,Ne3+,Ke1,Rxb2,h7,Rh2,Rg7,Nf5,Rf7,Ke6,g6,c4,Rf8,cxd3,h8=Q', 'd2+,Kd1,Ne3#', 'https://lichess.org/training/OUYoE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ov2f3', 'Rapid', 'Aaradhya07', 1709, 'lichking01', 1705, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,cxd5,exd5,g3,Bb4,Bg2,Ne4,Qb3,Na6,O-O,Bxc3,bxc3,b5,Ba3,Bg4,Ne5,Nd2,Nxc6', 'Nxb3,Nxd8,Nxa1', 'https://lichess.org/training/Ov2f3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ov2fc', 'Blitz', 'Mate-4-Life', 1521, 'dumariris', 1538, 'd4,d5,Bf4,Bf5,Nf3,Nf6,e3,e6,c3,Nbd7,b4,Ne4,Bd3,Be7,Bxe4,Bxe4,Nbd2,O-O,Nxe4,dxe4,Ne5,Nxe5,Bxe5,f6,Bf4,Qd5,O-O,Bd6,Bxd6,Qxd6,Qc2,b5,Qxe4,f5,Qd3,a6,a4,f4,e4,e5,d5,Qd7,Rfd1,f3,g3,Qh3,Qf1,Qh5,Rd3,Rf6,axb5,Rh6,h4,g5,Qh3,gxh4,Qxh4,Qg6,Qe7,Qg4,Rxa6', 'Rh1+,Kxh1,Qh3+,Kg1,Qg2#', 'https://lichess.org/training/Ov2fc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OV4Rt', 'Blitz', 'DrAndres97', 1787, 'E_Sukhanov', 1809, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,c5,c3,Nc6,Bb5,Qb6,Qa4,a6,Bxc6+,bxc6,Ne5,Ne7,b4,cxd4,exd4,f6,Nf3,Ng6,Bg3,Be7,O-O,O-O,Nbd2,a5,bxa5,Rxa5,Qd1,c5,Re1,c4,Rb1,Bxb1,Nxb1,Rxa2,Nbd2,Qb2,Qe2,e5,dxe5,Qxc3,exf6,Bxf6,Qe6+,Kh8,Qxd5,Rfa8,Qd7,Ne5,Bxe5,Bxe5,Nxe5,Qxd2', 'Nf7+,Kg8,Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/OV4Rt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ov7Sz', 'Classical', 'pigui', 1640, 'sham0India', 1898, 'e4,c5,Qh5,d6,Bb5+,Nc6,Bc4,e6,Bb5,Nf6,Qf3,Bd7,d3,Be7,Qg3,Qa5+,Nc3,O-O-O,Bxc6,Bxc6,Qxg7,Rdf8,Nh3,c4,O-O,cxd3,cxd3,d5,Bg5,Rhg8,Qh6,Ng4,Qh4,Bxg5,Nxg5,h6,Nh7,Rd8,Nf6,Nxf6,Qxf6,Rg6,Qxf7,Rdg8,g3,d4,Ne2,Qh5,Nf4', 'Rxg3+,fxg3,Qxf7', 'https://lichess.org/training/ov7Sz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ov8gO', 'Blitz', 'Jenlen3001', 2583, 'serendipity228', 2537, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,dxe4,Nxe4,Be7,Bxf6,Bxf6,Nf3,O-O,c3,b6,Bd3,Bb7,Qe2,Nd7,O-O-O,Qe7,g4,Bxe4,Qxe4,g6,h4,c5,g5,Bg7,d5,Rae8,Rhe1,e5,Bb5,Rd8,d6,Qe6,Bc4,Qf5,Qxf5,gxf5,h5,h6,g6,Bf6,gxf7+,Kh8,Be6,e4,Nd2,Ne5,Nc4,Bg5+,Kc2,Nd3,Rxd3,exd3+,Kxd3,b5,Na5,Rxd6+,Kc2,Rd2+,Kb3,c4+,Kb4,Rxb2+,Kc5,Rxa2,Nc6,a6,Ne5,Kg7,Ng6,Rxf7,Bxf7,Kxf7,f4,Bf6,Ne5+,Bxe5,Rxe5,Kf6,Rd5,Rc2,Rd6+,Kg7,Rg6+,Kh7,Kd4,Rd2+,Ke5,Rd3,Rxa6,Rxc3,Ra7+,Kg8,Kf6,Rg3,Ra8+,Kh7,Ra7+,Kh8,Rb7,Rg8,Kxf5,Rc8,Rxb5,c3,Rb1,c2,Rc1,Kg7,Ke6,Rc3,f5,Re3+,Kd5,Re2,Rf1,Kf6,Kd4', 'Rd2+,Kc3,Rd1,Kxc2,Rxf1', 'https://lichess.org/training/Ov8gO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OV9o8', 'Blitz', 'Rappozevich', 2461, 'Nima_Junior', 2432, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qd2,h6,Be3,Ng4,O-O-O,Nxe3,Qxe3,Be7,Kb1,O-O,f4,Qc7,g4,b5,a3,e5,Nf5,Bxf5,gxf5,exf4,Qxf4,Nc6,Nd5,Qd8,Rg1,Kh7,e5,dxe5,Qe4,Bf6,Bd3,Rb8,Rg4,Kh8,Rdg1,Rg8,Qg2,a5,Qh3,Kh7,Ne3,b4,a4,b3,Rc4,bxc2+,Bxc2,Qb6,b3,Nd4,Nd5,Qd6,Nxf6+,Qxf6,Rg6,fxg6,fxg6+,Kh8,Rc7,Nxc2', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/OV9o8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oV9wT', 'Blitz', 'Sex_God', 2331, 'FM Ashiev_Eduard', 2255, 'Nf3,d5,Nc3,Nf6,d4,e6,Bg5,Be7,Bxf6,Bxf6,e4,dxe4,Nxe4,O-O,Bd3,b6,c3,Bb7,Qe2,Nd7,O-O,c5,dxc5,Nxc5,Nxc5,bxc5,Rad1,Qb6,Rd2,Rad8,Rfd1,g6,Ne5,Kg7,Bc4,Rxd2,Rxd2,Rd8,Rxd8,Qxd8,Nd3,Qd6,f3,Bd5,Bxd5,exd5,g3,c4,Nf2,Qb6,Kg2,d4,Qxc4', 'Qxb2,cxd4,Bxd4,Qxd4+,Qxd4', 'https://lichess.org/training/oV9wT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oVArk', 'Rapid', 'teorems', 1651, 'Charlyboy', 1651, 'e4,e6,d4,Ne7,c4,Ng6,Nc3,Be7,Bd3,O-O,Nge2,Nc6,Qc2,Nb4,Qd1,Bg5,Bb1,Bxc1,Qxc1,d5,a3,Nc6,cxd5,exd5,e5,Na5,O-O,Nb3,Qd1,Nxa1,Bxg6,fxg6,Qxa1,Be6,Qc1,c6,Na4,Qa5,Nc5,Bc8,b4,Qc7,Nf4,Re8,Re1,Bf5,e6,b6,Nd7,Re7', 'Nxd5,cxd5,Qxc7', 'https://lichess.org/training/oVArk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVbFR', 'Rapid', 'Stainiz', 1883, 'Wise_Chip', 1795, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Nf6,Bc4,Bb4,Nxc6,bxc6,Bg5,Qa5,Bxf6,gxf6,O-O,Bxc3,bxc3,Qxc3,Bb3,Ba6,Re1,Rg8,Re3,Qe5,Rb1,Ke7,Qd2,Qg5,g3,Rg6,Rd1,Rd8,Qd4,Qg4,f3,Qh3,f4,Bc8,Qxa7,Rdg8,Rdd3,h5,Qc5+,Ke8,f5,Rg5,Qd6,h4,fxe6,fxe6,Qb8,Kf7,Qc7,Ke7,Qd6+,Kd8', 'Bxe6,Qxe6,Qxe6', 'https://lichess.org/training/OVbFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ovbpR', 'Rapid', 'pauloh', 1802, 'N3ur0na1pl4sticity', 1785, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bd3,Qf6,Qe2,d6,O-O,Ne7,Be3,Bxe3,Qxe3,O-O,c3,Bb7,Nd2,Rfe8,Nf3,Nd5,Qd2,Nf4,g3,Nxd3,Qxd3,d5,e5,Qh6,Rfe1,Rad8,Nd4,c5,Nf5,Qh3,Qf3,Ba8,Nxg7', 'd4,Qxa8,Rxa8', 'https://lichess.org/training/ovbpR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OvbVI', 'Classical', 'blogwithric', 1759, 'oliverjrwise', 1679, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,h3,Be6,Qe2,Be7,Nf3,Nc6,a3,h6,Nc3,O-O,O-O,a6,d3,Qd6,Nh2,d4,Bxe6,fxe6,Ne4,Qd7,Ng4,Nxe4,Qxe4,Qd5,Qg6,Bg5,Bxg5,Qxg5,Qxe6+,Kh7,Rae1,Rae8,Qd7,Rc8,Re6,Kh8,Rfe1,Qd2,R6e2,Qf4,Re4,Qd6,Qxd6,cxd6,Re6,Rcd8,c3,b5,R1e4,dxc3,bxc3,Na5,Rd4,Nb7,Re7,Na5,Ra7', 'Nc6,Rxa6,Nxd4', 'https://lichess.org/training/OvbVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVDiK', 'Rapid', 'CELMATH', 1736, 'Smash20', 1753, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,h3,Nf6,Nc3,O-O,O-O,Be6,Be2,Qd7,d5,Bxh3,dxc6,bxc6,gxh3,Qxh3,Ng5,Qg3+,Kh1,Qh4+,Kg2,h6,Nh3,Rae8,Bf3,d5,exd5,cxd5,Nxd5,Nxd5,Bxd5,Re5,Bf3,Re6,Be3,Bxe3,fxe3', 'Rg6+,Bg4,Rxg4+,Qxg4,Qxg4+', 'https://lichess.org/training/OVDiK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ovDj1', 'Rapid', 'PetrovAleksandr', 1683, 'Nitegazer', 1614, 'e4,e5,Nf3,Nc6,Bb5,Qf6,Bxc6,Qxc6,d3,d6,h3,h6,Nc3,Be7,O-O,g5,Be3,g4,hxg4,Bxg4,Qd2,Bxf3,gxf3,Qd7,Rfc1,Qh3,f4,exf4,Bxf4,O-O-O,Qe3,Qg4+,Kf1,Bg5,Ne2,Bxf4,Nxf4,Nf6,Ke1,Nh5,Nxh5,Qxh5,Kd2,Qa5+,c3,d5,b4,Qa4,exd5,Rxd5,Rh1,Rhd8,d4,Re8,Qxh6,Qd7,Rh5,Rd6,Qf4,Qe7,Re5', 'Qxe5,Qxe5,Rxe5', 'https://lichess.org/training/ovDj1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ovdQu', 'Rapid', 'borgogniels', 1874, 'sandy0', 1888, 'e4,e5,f4,d5,fxe5,dxe4,Nc3,Nc6,Bb5,Bc5,Nxe4,Qh4+,Ng3,Bd7,Nf3,Qe7,d4,Bxd4,Nxd4,Nxd4,Bxd7+,Qxd7,c3,Nf5', 'Qxd7+,Kxd7,Nxf5', 'https://lichess.org/training/ovdQu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oVe8z', 'Rapid', 'eldeeb', 2131, 'themunky', 2345, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,h6,Nf3,e4,Ng1,Bc5,c3,Ng4,Nh3,Qh4,O-O,Ba6,b4,Bxf1,Qxf1,Bd6,bxa5,Bxh2+,Kh1,O-O,Bxc6,Rac8,Bxe4,Bc7,Bf3,Ne5,Bb7,Rcd8,d4,Ng4,Nd2,Bxa5,Nf3,Qe7,Bc6,Bxc3,Rb1,Bxd4,Nxd4,Rxd4,Bf3,Ne5,Be3,Nxf3,gxf3,Ra4,Qg2,Rxa2,Bxh6,Qf6,Be3,a5,Rd1,Rd8,Rg1,Rc8,Bg5,Qg6,Nf4,Qh7+,Nh3,Rc5,Be3,Rh5,Kh2,Ra4,Qg3', 'Rxh3+,Qxh3,Rh4', 'https://lichess.org/training/oVe8z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVeLh', 'Blitz', 'chessbryk', 1948, 'rigbee', 1658, 'd4,d6,Bf4,e5,dxe5,dxe5,Qxd8+,Kxd8,Bxe5,Nc6,Bc3,Bf5,e3,Bxc2,Nd2,Bd6,Ngf3,Nf6,Bc4,Ke7,Ng5,Ne5,Bb3,h6,Ngf3,Bxb3,Nxb3,Nxf3+,gxf3,Nd5,Bxg7,Rhg8,Bd4,b6,O-O-O,Rg2,e4,Nf4,Be3,Rag8,Nd4,Kd7,Nf5,Nh3,Rd2,Kc6,Nxh6,R8g6,Nxf7,Bb4,Rc2+,Kb7,a3', 'Rg1+,Rxg1,Rxg1#', 'https://lichess.org/training/OVeLh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oVElj', 'Rapid', 'badbishopjones', 1604, 'fafadelapena2', 1709, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Bg4,O-O,Nf6,Nc3,c6,d4,d5,exd5,cxd5,Bb5+,Nc6,Bxf4,a6,Qe1+,Be7,Bd3,O-O,Ne5,Nxd4,Nxg4,Nxg4,Qg3,Nf6,Bh6,Ne6,Rae1,Bd6,Qh4,gxh6,Qxh6,Bf4,Rxf4,Nxf4,Qxf4,Qb6+,Kh1,Rfe8,Rf1,Re6,Nxd5,Nxd5', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/oVElj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ovEvD', 'Rapid', 'micaet', 2018, 'Gambitogambito', 1972, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,c3,Be7,O-O,O-O,Nbd2,d6,a4,Be6,Bxe6,fxe6,Re1,Qe8,Nf1,Nh5,Ng3,Nf4,d4,Bf6,Be3,g5,dxe5,Nxe5,Nxe5,Bxe5,Qg4,Qg6,h4,Rf6,h5,Qg7,a5,a6,Ra4,Raf8,Rb4,Nd3,Re2,Nxb4,cxb4,c6,Rc2,Bxg3,Qxg3,e5,Qg4,Kh8,Rd2,Rd8,Bb6,Rd7,Qd1,Rf4,Rxd6,Rxd6,Qxd6,Rxe4,Qd8+,Kh7', 'Qd3,Kg8,Qxe4', 'https://lichess.org/training/ovEvD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVF0I', 'Rapid', 'Paoloman', 1751, 'Chrisoforo', 1751, 'e4,c5,Nc3,Nc6,f4,e5,d3,d6,Nf3,Bg4,Be2,Bxf3,Bxf3,exf4,Bxf4,Nf6,O-O,Be7,e5,dxe5,Bxc6+,bxc6,Bxe5,O-O,Qf3,Qd7,Ne4,Ng4,Bg3,f5,Nd2,Bg5,Bf4,Bxf4,Qxf4,Rae8,h3,Ne3,Rfe1,Nxc2', 'Qc4+,Qd5,Qxc2', 'https://lichess.org/training/OVF0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVGEC', 'Rapid', 'predy1', 1789, 'Matheus_de_Assis', 1790, 'd4,d5,c4,dxc4,e4,c5,d5,b5,a4,bxa4,Bxc4,e6,Qxa4+,Bd7,Qc2,exd5,Bxd5,Bc6,Nc3,Bxd5,Nxd5,Nf6,Bg5,Be7,Nxe7,Qxe7,Nf3,Qxe4+,Qxe4+,Nxe4,O-O,O-O,Be7,Re8,Bh4,Nc6,Rfe1,Nd4,Nxd4,cxd4,Ra4,Nc5,Raa1,Nb3,Rad1,Rxe1+,Rxe1,d3,g3,f6,g4,d2,Rd1,Re8,f3,Re1+', 'Bxe1,dxe1=Q+,Rxe1', 'https://lichess.org/training/OVGEC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVgsh', 'Rapid', 'laskerror', 1768, 'Drinking_Beer', 1751, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,Nxd5,Nxd5,Qxd5,g6', 'Qe5+,Qe7,Qxh8', 'https://lichess.org/training/OVgsh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVGUI', 'Rapid', 'BonafedeS', 1913, 'krzurbanski', 1900, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Nd7,Bc4,Ngf6,Qe2,Nxe4,Qxe4,Nf6,Qe2,Bg4,Bxf7+,Kxf7,Ne5+,Kg8,Nxg4,Nxg4', 'Qe6#', 'https://lichess.org/training/OVGUI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ovi1J', 'Rapid', 'VazirZi', 1645, 'Myrrrvov-92', 1553, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,d4,Be7,Re1,Nxd4,Bxd7+,Qxd7,Nxd4,exd4,Qxd4,Bf6,Qe3,Qb5,Nc3,Bxc3,bxc3,Nf6,Bd2,O-O-O,Rab1,Qc6,Qxa7,Nxe4,Be3,Nxc3,Rb3,Rhe8,Reb1,Nxb1,Rxb1,Kd7,Rc1,Ra8,Qd4,Rxa2,Qxg7,Rxc2,Rxc2', 'Qxc2,Qxf7+,Re7,Qxe7+,Kxe7', 'https://lichess.org/training/Ovi1J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oVIxH', 'Classical', 'ryochess', 2126, 'Aidy', 2008, 'e4,d6,d4,Nf6,Nc3,g6,Be3,Bg7,h3,O-O,f4,a6,Qf3,c6,O-O-O,Qa5,g4,b5,Kb1,Bb7,e5,Nd5,Nxd5,cxd5,exd6,exd6,f5,Nd7,h4,Rac8,h5,Qc7,Bd3,Nc5,dxc5,d4,Qh3,Bxh1,hxg6,fxg6,fxg6,h6,Bxh6,Bg2,Qh2,Bxh6,Qxh6,Qg7,Qh2,Bd5,Qxd6,Rfd8,Qh2,Rxc5,Ne2,Bf3,Rf1,Bxg4,Rf7,Qh8,Qxh8+,Kxh8,Nf4,Rd7,Rf6,Kg7,Rxa6,Re7,a4,bxa4,Rxa4,Bf5,Rxd4,Bxd3,Nxd3,Rg5,Nf4,Rg1+,Ka2,Ra7+,Kb3,Rb7+,Kc3,Rg3+,Kd2,Rxb2', 'Nh5+,Kxg6,Nxg3', 'https://lichess.org/training/oVIxH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oVj71', 'Rapid', 'johnsama', 1785, 'allen82', 1809, 'e4,g6,d4,Bg7,Nf3,d6,h4,Bg4,h5,Bxh5,Rxh5,gxh5,Nc3,Nf6,Ng5,e6,Be2,h6,Nh3,Nc6,Bxh5,Nxh5,Qxh5,Nxd4,Qd1,Qf6,Be3,Nc6,Nf4,O-O-O,Nh5,Qg6,Nxg7,Qxg7,Qf3,Rhf8,O-O-O,f5,exf5,Rxf5,Qe2,Qxg2,a3,h5,Kb1,a6,Qc4,d5,Qh4,Qg4,Qh1,h4,Rg1,Qh5,Na4,b6,Nc3,h3,Qh2,d4,Qh1,Rd6,Ne4,dxe3', 'Nxd6+,Kd7,Nxf5', 'https://lichess.org/training/oVj71');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oVjIT', 'Rapid', 'Antonio-Che', 1756, 'time_087', 1758, 'g3,e6,Bg2,Qf6,d3,Bc5,Nf3,d6,O-O,h5,Bg5,Qg6,Bc1,h4,Nxh4,Qh5,Nd2,g5,Nhf3,e5,b3,Bg4,Bb2,Bxf3,Nxf3,g4,Nh4,Ne7,Bxb7,Nf5,e3,Nxh4,Re1,Nf3+,Bxf3,Qxh2+,Kf1,gxf3,Qxf3,c6,Ke2,Qh5,g4,Qh7,d4,Bb4,Rec1,exd4,Bxd4,Kd7,Bxh8,Qxh8,Qxf7+,Kc8,Rh1,Qd8,Qf5+,Nd7,Qe4,Kc7,Qxb4,Rb8,Qa5+,Rb6,Qxa7+,Rb7,Qd4,c5,Qd5,Qf6,a4,Qb2,Qf5,Rb4,Kf3,Ne5+,Kg3,Rxg4+,Kh3,Rb4,Qh7+,Kc6,Rhg1,Nf3,Rab1,Qf6,Rg4,Ng5+,Rxg5,Qxg5,Rd1', 'Qg4+,Kh2,Qxd1', 'https://lichess.org/training/oVjIT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVJKR', 'Rapid', 'Rob1304', 1956, 'albertocarlsen', 2010, 'd4,d5,c4,c6,Nf3,e6,e3,Nf6,Nc3,Na6,cxd5,exd5,Bxa6,bxa6,Qa4,Bb7,Ne5,Rc8,O-O,Bd6,Nd3,O-O,b4,Qc7,h3,Ne4,Nxe4,dxe4,Nc5,Bxc5,bxc5,Rfd8,Bd2,Rd5,Rab1,Re8,Ba5,Qe7,Qb3,Bc8,Qb8,Bxh3,Qg3,Bd7,Rb7,Rg5', 'Rxd7,Qxd7,Qxg5', 'https://lichess.org/training/OVJKR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OvJnV', 'Rapid', 'Jafarmazareei', 1860, 'Shinravii', 1895, 'e4,c5,Nf3,d6,c3,Nc6,Bb5,Nf6,d3,Bg4,O-O,e6,Nbd2,Be7,h3,Bh5,Qb3,O-O,Re1,a6,Bxc6,bxc6,e5,dxe5,Nxe5,Qc7,Re3,Nd5,Re1,Rfd8,c4,Rab8,Qc2,Nb4,Qc3,Bf6,f4,Nxd3,g4,Bg6,Ndf3,Nxe1,Qxe1,Bxe5,Nxe5,Rd4,b3,Rbd8,Be3,Re4,Qf2,f5,Rf1,Be8,g5,Bh5,Rc1,Qd6,Re1,Qc7,Kg2,a5,Bxc5,Rxe1,Qxe1,h6,Qh4,Rd2+,Kg3,hxg5', 'Qxh5,gxf4+,Kxf4,g5+,Qxg5+', 'https://lichess.org/training/OvJnV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVKY8', 'Rapid', 'pskpress', 1651, 'freechaser', 1688, 'e4,e5,Qf3,Nc6,c3,a6,d3,Bc5,Be2,h6,Qg3,Qf6,Nf3,d6,h3,Nge7,Nh2,d5,Nd2,d4,Nb3,Ba7,O-O,Be6,Bg4,Qg6,Bxe6,Qxg3,fxg3,fxe6,Rf3,dxc3+,Kh1,cxb2,Bxb2,O-O-O,Raf1,Nd4,Nxd4,exd4,Rf7,Rd7,Rxg7,Nc6,Rff7,Ne5,Rxd7,Nxd7,Re7,e5,Nf3,Rf8,Nxe5,Nxe5,Rxe5,Rf2,Ba3,Rxa2,Bf8,Rd2,Bxh6,Rxd3,g4,c5,g5', 'Rd1+,Kh2,Bb8', 'https://lichess.org/training/OVKY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oVKzd', 'Classical', 'mohsen6767', 1804, 'TUTURAY', 1887, 'd4,d5,c4,e6,Nc3,c6,e4,Bb4,cxd5,cxd5,Qa4+,Nc6,exd5,exd5,Bb5,Bd7,Bxc6,Bxc3+,bxc3,Bxc6,Qc2,Nf6,Nf3,O-O,O-O,Ne4,Be3,f5,Ne5,f4,Bd2,Qg5,Nf3,Qf6,a4,g5,Ne5,Qe6,Nxc6,bxc6,Rfe1,Qg4,f3,Qh4,fxe4,f3,gxf3,Rxf3,Rf1,Raf8,Rxf3,Rxf3,Rf1', 'Qg4+,Kh1,Rxf1#', 'https://lichess.org/training/oVKzd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OvLzs', 'Blitz', 'Suhaib2001', 1580, 'Ivancho2811', 1562, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,Bg4,d3,Be7,Be3,Nf6,h3,Bh5,g4,Bg6,Qd2,Na5,O-O-O,O-O,Nh4,Kh8,Nxg6+,fxg6,h4,Nxg4,Rdg1,Nxe3,Qxe3,Bxh4,Rg4,Bxf2,Qh3,h6,Rxg6,Rf6', 'Qxh6+,gxh6,Rhxh6#', 'https://lichess.org/training/OvLzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ovMUB', 'Rapid', 'Autzenfan', 1746, 'ser2282', 1811, 'e4,e5,Nf3,d6,Bc4,Bg4,d4,exd4,c3,dxc3,Nxc3,Bxf3,Qxf3,Nf6,O-O,Be7,Nd5,O-O,Nxe7+,Qxe7,Bg5,Nbd7,Rad1,Ne5,Qb3,Nxc4,Qxc4,a6,Rfe1,h6,Bh4,b5,Qc3,g5,Bg3,Rae8,f3,Qd7,Qd2,Nh5,Bf2,Nf4,h4,f6,hxg5,hxg5,Bg3,Nh5,Bh2,g4,Qh6,Ng7,Kf2,gxf3,gxf3,Qc6,Rc1,Qb6+,Kg2,c5,Rg1,c4,Kh3,Qc7,Rg4,Qd7,Rg1,Re7,Kg3,d5,exd5,Qxd5,Rh4,Qg5+,Kf2,Qxh6,Rxh6,Kf7', 'Bd6,Rfe8,Bxe7', 'https://lichess.org/training/ovMUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oVmUW', 'Rapid', 'Demystifier', 1968, 'PawnToTsar', 1697, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,c3,dxc3,Qd5,Nh6,Bxh6,O-O,Nxc3,gxh6,a3,b6,O-O-O,Bb7,Qh5,Na5,Ba2,Bg5+,Kb1,Kg7,h4,Bf6,Rh3,Bxc3,Rg3+,Kh8,bxc3,Bxe4+,Ka1,Qf6,Qe5,Qxe5,Nxe5,Rad8', 'Nxf7+,Rxf7,Bxf7', 'https://lichess.org/training/oVmUW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oVn0K', 'Rapid', 'aleksejj83', 1917, 'DeathBed', 1945, 'Nf3,e5,Nxe5,d6,Nf3,Nc6,g3,Be6,d4,d5,Bg2,Bd6,O-O,Nf6,b3,b6,Bb2,Ne7,Nbd2,c5,c4,O-O,cxd5,Bxd5,Re1,Ne4,Nxe4,Bxe4,dxc5,Bxc5,Qxd8,Raxd8,Red1,Nd5,Ne5,Bxg2,Kxg2,Rfe8,e3,Bxe3,Rxd5', 'Rxd5,fxe3,Rd2+,Kf3,Rxb2', 'https://lichess.org/training/oVn0K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ovnND', 'Blitz', 'PeterJumper', 1717, 'MerkoRG', 1637, 'e4,c5,Nf3,Nc6,d4,e6,Nc3,d5,exd5,exd5,Bb5,Bd7,dxc5,Bxc5,Qxd5,Qb6,Bxc6,Bxf2+,Kf1,bxc6,Qe4+,Ne7,Bf4,O-O,Qxe7,Bg4,Qc7,Qxb2,Kxf2,Qxc3,Be5,Qxc2+,Kg3,h5,h3,Bxf3,gxf3,Rfe8,Rhg1,h4+,Kxh4,Qf2+,Kg4,Re6,Bf4,Rae8,Raf1,Qc5,Kh4,Qc2,Kg3,Rg6+,Kh4,Qc4,Rxg6,fxg6,Kg3,Re2,Rd1,Kh7,Rd8,Qxa2,Be5,Rg2+,Kh4,Qc4+,f4', 'g5+,Kh5,Qe2#', 'https://lichess.org/training/ovnND');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OvPgq', 'Blitz', 'vertigesdelA', 2112, 'xedoc', 2147, 'd4,d5,Nc3,Nf6,Bg5,e6,e4,Be7,e5,Nfd7,Bxe7,Qxe7,f4,c5,Nf3,Nc6,Nb5,O-O,Nd6,f6,c3,cxd4,cxd4,fxe5,fxe5,Rxf3,Qxf3,Nxd4,Qc3,Nxe5,Qxd4,Qxd6,Be2,Nc6,Qh4,e5,O-O,Be6,Rad1,Re8,Bg4,e4,Bxe6+,Qxe6,Qg5,d4,b3,e3,Rfe1,Qe4,Qb5,e2,Rd2,Qe3+,Kh1,Qf2,Rdxe2', 'Qxe1+,Rxe1,Rxe1+,Qf1,Rxf1#', 'https://lichess.org/training/OvPgq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oVqfi', 'Blitz', 'al_ilinov', 1757, 'abhsinha', 1630, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,f4,Bd7,h3,Nc6,Be3,Nh5,g4,Nxd4,Bxd4,Bxd4+,Qxd4,Ng7,Rad1,Ne6,Bxe6,Bxe6,Nd5,Bxd5,exd5,Qb6,c4,Qxd4+,Rxd4,Rac8,Re1,Rfe8,f5,gxf5,gxf5,f6,b3,a6,Kh2,Kf7,h4,Rg8,Kh3,Rg7,Rde4,Re8,a4,h5,a5,Rgg8,b4,Kf8,c5,dxc5,bxc5,Rc8,d6,exd6,cxd6,Rc3+,R1e3,Rc1,Kh2,Rd1,Re6,Rg4', 'Re8+,Kg7,R3e7+,Kh6,Rh8#', 'https://lichess.org/training/oVqfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVRMJ', 'Rapid', 'romeoxt', 1743, 'tarzan1948', 1830, 'c4,c5,g3,g6,Bg2,Nc6,Nc3,Bg7,e4,d6,Nge2,e6,d3,Nge7,O-O,O-O,f4,a6,Rb1,Nd4,Nxd4,cxd4,Ne2,Bd7,b3,Qc7,Bb2,Nc6,h3,Rac8,g4,Nb4,a3,Nc6,Ng3,b5,Rc1,e5,f5,Bh6,Rc2,bxc4,Rxc4,Be3+,Kh2,Qb6,h4,Rb8,b4,a5,Bc1,axb4,Bxe3,dxe3,axb4,Nd4,Ne2,Rfc8,g5,Rxc4,dxc4,Qxb4,Nxd4,exd4,Qxd4,e2,Re1,Qxe1,Qxd6,Qxh4+,Bh3,e1=Q', 'Qxb8+,Be8,Qxe8+,Kg7,f6#', 'https://lichess.org/training/OVRMJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVsCh', 'Blitz', 'agrzelak', 2242, 'CM Kingscrusher-YouTube', 2213, 'd4,g6,Nf3,Bg7,Bf4,c5,e3,cxd4,exd4,d5,c3,Nc6,Bd3,Nh6,O-O,f6,Re1,Nf7,Bc2,O-O,h3,e5,dxe5,fxe5,Bh2,e4,Nd4,Nxd4,cxd4,Qb6,Bb3,Be6,Nc3,Bxd4,Re2,e3,fxe3,Bxe3+,Kh1,d4,Bxe6,Qxe6,Qxd4,Bxd4,Rxe6,Rfe8,Rae1,Rxe6,Rxe6,Rd8,Bc7,Rd7,Bf4,g5,Be3,Bxe3,Rxe3,Rd2,b3,Kg7,a4,a5,Ne4,Rb2,Kh2,h6,Nc5,b6,Nd7,Nd6,Nxb6,Nf5,Rd3,Nh4,Rg3,Nf5,Rc3,Nh4,Nc4,Rxg2+,Kh1,Rf2,Kg1,Rg2+,Kf1,Rh2,Nxa5,h5,Nc4,Nf5,Ne3,Ng3+,Ke1,Ra2,Nc2,Ne4,Rc7+,Kf6,Ke2,g4,hxg4,hxg4,Ke3,Nd6,Kf4,Rb2,Rc6,Ke7,Nd4,Rd2,Nf5+,Nxf5,Kxf5,g3,Rg6,g2,Ke4,Rb2,Kd5,Kf7,Rg3,Kf6,Kc4,Kf5,b4,Kf4,Rg7,Kf3,a5,Rc2+,Kb3,Rc1,Rxg2,Kxg2,a6,Kf3,b5,Ke4', 'a7,Ra1,b6', 'https://lichess.org/training/OVsCh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ovux3', 'Blitz', 'ZeChessBoss666', 1691, 'AndriiMaks', 1673, 'e4,e5,d4,exd4,c3,d5,cxd4,Bb4+,Nc3,dxe4,Qa4+,Nc6,d5,Bxc3+,bxc3,Qxd5,Bc4,Qd6,Ne2,Bd7,Bf4,Ne5,Bxe5,Qxe5,Qb3,Qf6,Qxb7,Bc6,Qxc7,Ne7,O-O,O-O,Nd4,Rfc8,Qg3,Ba4,Rfe1,Rxc4,Rxe4,Rc5,Rae1,Re8,Rxe7,Rxe7', 'Qb8+,Rc8,Qxc8+,Be8,Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/ovux3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oVVSR', 'Rapid', 'Gita', 1653, 'Lanchii5', 1722, 'e4,e5,Nf3,Nc6,Nc3,b6,Bc4,Be7,d4,exd4,Nxd4,Bb7,Nf5,g6,Qd5,Qc8,Qxf7+,Kd8,Ng7,Nf6,Ne6+,dxe6,Bg5,Ne5,O-O-O+,Ned7,Qxe6,Ke8,Bb5,c6,Bxf6,Nxf6,Qe5,cxb5,Nxb5,Kf7,Nd6+,Bxd6,Rxd6,Nd7', 'Qe6+,Kf8,Rxd7,Qxd7,Qxd7', 'https://lichess.org/training/oVVSR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ovW8Y', 'Blitz', 'Kittra', 2193, 'ekdubov', 2164, 'd4,Nf6,Nf3,b5,c4,bxc4,Nc3,d5,e4,c6,e5,Ng8,h3,Bf5,Be2,e6,O-O,Bb4,a3,Bxc3,bxc3,Ne7,Nh4,O-O,f4,Be4,g4,c5,f5,Nxf5,Nxf5,exf5,gxf5,Qh4,Kh2,cxd4,cxd4,Nc6,Rf4,Qd8,f6,g6,Be3,Qc7,Qe1,Kh8,Qh4,Nxe5,Qh6,Rg8', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/ovW8Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OvxeR', 'Blitz', 'mahlil_mh', 1821, 'fedediego', 1819, 'd4,Nf6,Nc3,c5,d5,g6,e4,d6,Nf3,Bg7,e5,dxe5,Nxe5,O-O,Bc4,a6,a4,Nbd7,Bf4,Nh5,Nxd7,Bxd7,Be3,Rb8,Bxc5,b6,Be3,b5,axb5,axb5,Ne4,bxc4,O-O,Nf6,Nc5,Rxb2,Ra7,Bf5,c3,Qxd5,Bd4,Rc8,Na4,Rbb8,Rxe7,Re8,Ra7,Ne4,Nb6,Qb5,Bxg7,Kxg7,Qd4+,Kg8,Nd5,Rbd8,Nf6+,Nxf6,Qxf6,Qe5', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/OvxeR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OvXzd', 'Rapid', 'B25270', 1646, 'marc_bret', 1901, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Be2,e5,c4,Qxg2,Bf3,Qg6,Bh5,Qf6,Nf3,Bc5,d3,Bf5,Bg5,Qb6,Bxf7+,Kxf7,Nxe5+,Ke6,Qe2,Bb4+,Kd1,Re8,Nc6+,Kf7,Ne5+,Kf8,Bf4,Nc6,Qh5,Nxe5,Qxf5+,Nf7,Rg1,Qxf2', 'Bd6+,Bxd6,Qxf2', 'https://lichess.org/training/OvXzd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OVyMh', 'Rapid', 'anlaet', 1733, 'mgchesscom', 1982, 'e4,c6,d4,d5,exd5,cxd5,c4,dxc4,Bxc4,e6,Nc3,Nf6,Nf3,Be7,O-O,O-O,Bf4,Nbd7,Ne5,Nb6,Bb3,Nbd5,Nxd5,Nxd5,Bg3,Bh4,Qh5,Bxg3,fxg3,Nf6,Qh4,b5,Rac1,Bb7,Nc6,Bxc6,Rxc6,Nd7,Qxd8,Raxd8,Rc7,a5,Rfc1,a4,Bd1,Nb6,Rb7,Rd6,Be2,b4,Bb5,Nd5,Bxa4,Ne3,Rxb4,Rfd8,Rc7', 'Nd5,Rbb7,Nxc7', 'https://lichess.org/training/OVyMh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OvZS8', 'Rapid', 'Asyanov31', 1853, 'Gafrei', 1938, 'e4,c5,Nf3,d6,b3,Nc6,Bb2,Nf6,Nc3,e6,Be2,g6,O-O,Bg7,Rb1,O-O,h3,a6,a4,b5,axb5,axb5,Bxb5,Nb4,Ba4,Bb7,d3,d5,exd5,Nfxd5,Nxd5,Qxd5,Bxg7,Kxg7,Re1,Nc6,Bxc6,Bxc6,Re5,Qd6,Qd2,Bxf3,Qc3,f6,Rxc5,Bd5,Qd4,Qb6', 'Rxd5,Qxd4,Rxd4', 'https://lichess.org/training/OvZS8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ow1it', 'Classical', 'CLSmith15', 1921, 'mishele', 1954, 'd4,e5,dxe5,d5,exd6,Bxd6,Nf3,Nc6,e4,Bg4,Be3,Qe7,Nbd2,O-O-O,a3,Nf6,Bd3,h5,h3,Be6,O-O,Qd7,Ng5,Ne5,Nxe6,Qxe6,Be2,Kb8,f4,Neg4,hxg4,Nxg4,Bxg4,hxg4,Kf2,g5,f5,g3+,Ke1,Qf6,c3,Rhe8,Qg4,Rg8,Bd4,Qe7,Kd1,Bf4,Qf3,c5,Be3,Rd3,Re1,Rgd8,Bxf4+,gxf4,Qxf4+,Ka8,Re2,Qd7,Kc2,Qa4+,Kb1', 'Qd1+,Ka2,Qxe2', 'https://lichess.org/training/ow1it');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OW307', 'Rapid', 'gnt100', 1655, 'IvanKomsic-BiH-1997', 1714, 'e4,c5,Bc4,e6,d3,Be7,c3,Nf6,h3,a6,Be3,b5,Bb3,d5,e5,Ng8,f4,Nh6,Bc2,Nf5,Qf3,Nxe3,Qxe3,d4,Qe4,dxc3,bxc3,Ra7,Nf3,O-O,O-O,Bb7,Qe2,Nc6,Nbd2,Qb6,Kh1,Rd8,Ne4,Na5,Neg5,Bxg5,Nxg5,c4,Qh5,h6,Qxf7+,Kh8,Nxe6', 'Bxg2+,Kxg2,Rxf7', 'https://lichess.org/training/OW307');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ow36J', 'Rapid', 'm123p123', 1786, 'LeonelAraujo', 1941, 'c4,g6,Nc3,Bg7,g3,d6,Bg2,e5,d3,f5,Bd2,Nf6,Qa4+,c6,Nf3,O-O,Qb3,Rf7,O-O,h6,Nh4,Kh7,f4,exf4,Bxf4,g5,Bxg5,hxg5,Nxf5,Bxf5,Rxf5,Kg6,Rf2,Qb6,Qc2,Ng4', 'd4+,Kh6,Rxf7', 'https://lichess.org/training/ow36J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oW4WY', 'Blitz', 'Oleskul', 2319, 'CM AAponte', 2357, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,a5,O-O,d6,f3,Bd7,Qd2,Nxd4,Bxd4,b5,a4,bxa4,Nxa4,Rb8,Kh1,Nh5,Bxg7,Kxg7,Rfd1,Be6,Bxe6,fxe6,b3,Nf4,Nb2,Rb5,Nd3,Nh5,Ra4,Qb6,Rda1', 'Ng3+,hxg3,Rh5#', 'https://lichess.org/training/oW4WY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ow5e6', 'Rapid', 'CILGINAT', 2340, 'CM Floman', 2335, 'f4,d5,Nf3,c5,e3,Nf6,b3,g6,Bb2,Bg7,Be2,O-O,O-O,Nc6,Ne5,Qc7,Nxc6,Qxc6,Bf3,b5,a4,b4,d3,Bb7,Nd2,Rfd8,Nc4,Qe6,Ne5,Nd7,d4,Nxe5,fxe5,Bh6,Bg4,Qb6,Qf3,Rf8,Qh3,Bg7,Rf2,Bc8,dxc5,Qxc5,Bd4,Qc7,e6,f5,Bxf5,gxf5,Rxf5,Rxf5,Qxf5,Bxd4', 'Qf7+,Kh8,Qf8#', 'https://lichess.org/training/ow5e6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ow5fm', 'Bullet', 'DoctorTarrasch4', 1792, 'efde', 1922, 'e4,g6,d4,Bg7,Nf3,c5,c3,cxd4,cxd4,d6,Nc3,Nf6,Be2,Bg4,Be3,Nc6,O-O,O-O,a3,a6,d5,Bxf3,dxc6,Bxe2,Nxe2,bxc6,f3,c5,e5,Ne8,exd6,exd6,Qc2,Rb8,Rab1,Qe7,Bf4,Nf6,Nc3,Rfd8,Rfe1,Qc7,Re2,Qb6,Rbe1,Bf8,Kh1,Rb7,Bg5,Kg7,Qd2,d5,Bh6+,Kg8,Bg5,d4,Ne4,Bg7,Nxf6+,Bxf6', 'Re8+,Rxe8,Rxe8+,Kg7,Bh6#', 'https://lichess.org/training/Ow5fm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oW5mb', 'Rapid', 'Ura_58', 1838, 'Ed1996h', 1808, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,h3,Bxf3,Qxf3,c5,c3,Nc6,Bb5,Ne7,Bg5,h5,Nd2,cxd4,cxd4,Qc7,O-O,a6,Bxc6+,Nxc6,Nb3,Qb6,Rfd1,Be7,Bxe7,Nxe7,Rac1,Nf5,Rc2,Ke7,Kh2,h4,Qg4,Rhc8,Rdc1,Rc6,Rxc6,bxc6,Qg5+,Kd7,Nc5+,Ke8,Nxe6,fxe6,Qg6+,Ke7,Qg5+,Kd7,Qg6,Re8,b3,Qxd4,Rxc6,Kxc6,Qxe8+,Kb7,Qd7+,Kb8,Qd6+,Kc8', 'Qxe6+,Kd8,Qxf5', 'https://lichess.org/training/oW5mb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oW5WK', 'Classical', 'Aapriatna09', 1928, 'FlagMaster', 1832, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,f4,Bb4+,Nc3,Nf6,Qd3,O-O,Nf3,d5,e5,Ne4,Be2,Qa5,O-O,Bxc3,bxc3,Qxc3,Be3,Qxd3,Bxd3,Nb4,Bb1,Nc3,a3,Nxb1,Raxb1,Nc2,Bc1,f6,Rf2,fxe5,dxe5,Nxa3,Bxa3,Rxf4,Bd6,b6,Ra2,Bb7,Rxb6', 'axb6,Rxa8+,Bxa8', 'https://lichess.org/training/oW5WK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OWAHE', 'Rapid', 'john-warner', 1633, 'cowboy333', 1681, 'd4,d5,c4,c6,Nf3,Bg4,Bg5,Nf6,e3,Nbd7,Nc3,e6,Bd3,Bb4,cxd5,cxd5,Bxf6,Nxf6', 'Qa4+,Kf8,Qxb4+', 'https://lichess.org/training/OWAHE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('owaPw', 'Classical', 'Mrchess78', 1604, 'MrAmado', 1604, 'd4,d5,c4,dxc4,Nc3,Nf6,Nf3,Bg4,e3,Nc6,Be2,e5,h3,Bxf3,Bxf3,exd4,Bxc6+,bxc6,exd4,Bb4,Qe2+,Be7,Qxc4,Qd7,O-O,O-O,Be3,Nd5,Nxd5,cxd5,Qc2,a5,a3,Rfc8,Rac1,c5,dxc5,d4,Bf4,Bxc5,Qd3,Rab8,Rc2,Qd5,Re1,Rb3,Qe4,Qd7,Rce2,d3,Qe8+', 'Rxe8,Rxe8+,Bf8', 'https://lichess.org/training/owaPw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('owbof', 'Rapid', 'amritsarchessclub', 2022, 'dakshchess', 1679, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Nge7,Bd3,cxd4,cxd4,a6,Nc3,Bd7,Be3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/owbof');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('owc9n', 'Rapid', 'aitakaitak', 2136, 'frscb', 2192, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,O-O,d5,e5,Ne7,d4,cxd4,Qxd4,Nf5,Qf4,c5,g4,Ne7,Ng5,f6,exf6,Ng6,f7+,Kd7,Qa4+,Kd6,Nc3,Be7,Nb5+,Kc6,Nf3,Bd7,Bd2,a6,Na3+,Kb7,Qb3+,Qb6,Qe3,Rhf8,Ne5,Nxe5,Qxe5,Rxf7,b4,cxb4,Rab1,Raf8,Be3,Bc5,Nc4,Qb5,Bxc5,Qxc5,Nd6+,Kc6,Nxf7,Rxf7,Rbc1,d4,Qb8,e5,Rce1,Re7,h3', 'Re8,Qxe8,Bxe8', 'https://lichess.org/training/owc9n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oWcgP', 'Blitz', 'killerdeadpool', 2198, 'DarkVeider', 2221, 'd4,Nf6,e3,e6,f4,c5,c3,Nc6,Bd3,d5,Nd2,a6,Ngf3,Bd6,O-O,Qe7,Ne5,O-O,Rf3,Rd8,Rh3,Qc7,Bxh7+,Nxh7,Qh5,Kf8,Qxh7,Bxe5,fxe5,Ne7,Nf3,Ng6,Ng5,Bd7,Qh5,Be8,Qf3,Kg8,Bd2,Qe7,e4,dxe4,Qxe4,cxd4,cxd4,Bc6,Qe2,Rxd4,Qh5,Rxd2', 'Qh7+,Kf8,Qh8+,Nxh8,Rxh8#', 'https://lichess.org/training/oWcgP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OwCwn', 'Rapid', 'MaxiumOdilon', 1732, 'dutchman12', 1729, 'e4,e5,c3,Nf6,Qc2,Bc5,h3,Nc6,Nf3,d6,d3,O-O,b3,a5,Ba3,Ba7,Nbd2,Be6,g3,b5,b4,axb4,Bxb4,Nxb4,cxb4,c5,a3,Qb6,Bg2,cxb4,O-O,Rac8,Qb2,bxa3,Qxa3,Ra8,Qb4,Qc5,Rab1,Rab8,Ng5,Bd7,Ndf3,h6,h4,hxg5,hxg5,Ng4,Nh4,Nxf2,Qxc5,Bxc5,Kh2,Ng4+,Kh1,Nf2+,Kh2,Nxd3,g6,Nf2,gxf7+,Rxf7,Nf5,Bxf5,exf5,Rxf5,Bd5+,Kh8,Kg2,Rbf8', 'Rh1+,Nxh1,Rxh1+,Rh5,Rxh5#', 'https://lichess.org/training/OwCwn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oWewF', 'Rapid', 'robbo17', 1676, 'luthieu77', 1626, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,e6,e4,Nb6,Nc3,Bd7,Be2,Bb4,O-O,Qe7,Bf4,Bxc3,bxc3,O-O,Bxc7', 'Ba4,Qd3,Qxc7', 'https://lichess.org/training/oWewF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oWHRD', 'Blitz', 'GM volodja49', 2496, 'BobFleming', 2348, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,c6,g3,d5,Bg2,Bd6,O-O,O-O,b3,Bd7,Qc2,Be8,Bb2,Bh5,Ne5,Nbd7,f4,Rc8,c5,Bxe5,fxe5,Ng4,Qd2,b6,b4,bxc5,bxc5,Rb8,Bc1,Qa5,Qc2,Nxc5,h3,Nxe5,dxe5,Ne4,Nxe4,fxe4,Be3,Qa6,g4,Bg6,Bc5,Rxf1+,Rxf1,Qb5,e3,h5,Bd6,Rb7,Rf8+,Kh7,Qf2,Qb1+,Kh2,Rb2,Qh4,Qc2,Qg3,hxg4,Qxg4,Qe2,Qh4+,Bh5,Qg5,Bf3,Qh4+,Bh5,Qg3,Bf3,Ba3', 'Qxg2+,Qxg2,Rxg2+', 'https://lichess.org/training/oWHRD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OWhTE', 'Blitz', 'IM Yeron', 2318, 'GM kmilooo', 2644, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,f3,h5,Qd2,Qc7,a4,Nbd7,a5,Be7,Be2,Ne5,Na4,Bd7,Nb6,Rd8,h3,h4,c4,O-O,Rc1,Rfe8,O-O,Nh5,f4,Ng3,fxe5,dxe5,Nf3,Bc6,Qe1,Bxe4,Ng5,Bxg5,Bxg5,Nxe2+,Qxe2,Bd3,Qe3,f6,Bxh4,Bxf1,Rxf1,Rd4,Bf2,Red8,Qf3,Rd3,Qg4,Qf7,Bh4,R8d4,Qe2,Rd2,Qe1,Qg6,Bg3,Rxb2,Nc8,Kh7,Ne7,Qc2,Rf2,Qb3,Rxb2,Qxb2,Kh2,Rd2,Qe4+,g6,Qh4+,Kg7,Qe4,Re2', 'Qxg6+,Kf8,Qxf6+', 'https://lichess.org/training/OWhTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Owi15', 'Rapid', 'bubo15', 1909, 'moeod', 1704, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Bd7,c3,Nf6,Qe2,Be7,h3,O-O,Rd1,b5,Bc2,d5,d4,exd4,e5,Ne4,cxd4,Re8,Nc3,Nxc3,bxc3,f6,Bf4,fxe5,Nxe5,Nxe5,Bxe5,Bf6,Qd3,g6,Re1,Bxe5,dxe5,Qe7,Qxd5+,Be6,Qd4,c5,Qd6,Qa7,Qd2,Rad8,Qg5,c4,h4,Rf8,h5', 'Qxf2+,Kh2,Qxc2', 'https://lichess.org/training/Owi15');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OwiX4', 'Rapid', 'SuperBunny', 1732, 'Enrique12', 1627, 'e4,Nc6,d4,d5,e5,h5,h3,Bf5,a3,e6,Nf3,f6,Bd3,Nge7,exf6,gxf6,Nh4,Bxd3,Qxd3,Qd6,Ng6,Rg8,Nxe7,Bxe7,O-O,O-O-O,Nc3,e5,dxe5,Nxe5,Qf5+,Kb8,Bf4,Rg7,Rad1,Rdg8,Bg3,Rxg3,fxg3,Qb6+,Kh2,Qxb2,Nxd5,Qxa3,Nxe7', 'Qxg3+,Kg1,Qxg2#', 'https://lichess.org/training/OwiX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oWj0h', 'Rapid', 'Material_14', 1796, 'MountainSounds', 1900, 'd4,Nf6,e3,e6,Bd3,d5,f4,Nc6,c3,Be7,Nf3,O-O,Nbd2,a6,Ne5,Bd7,O-O,Nxe5,fxe5,Ne8,Qh5,g6,Qh6,Ng7,Nf3,Bb5,Bxb5,axb5,e4,dxe4', 'Ng5,Bxg5,Bxg5', 'https://lichess.org/training/oWj0h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Owjxd', 'Rapid', 'fabiomonteiro660', 1654, 'haythamkh', 1678, 'e4,c5,Nf3,d5,e5,e6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Be7,c3,Nh6,d3,Nf5,Nbd2,h5,Re1,g5,Nf1,a6,d4,g4,N3d2,cxd4,cxd4,Nxd4,f3,Qc7,fxg4,Nc2,gxh5,Nxa1,Nf3,Rc8,Ng3,Nc2,Rf1,Bc5+,Kh1,Ne3,Bxe3,Bxe3,Qd3,Bf4,Nd4,Bxe5,Ngf5,exf5,Qxf5,Bxh2', 'Qxf7+,Kd8,Ne6#', 'https://lichess.org/training/Owjxd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OWkNz', 'Blitz', 'Sinanhoca', 1738, 'K0P0L0', 1703, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,h5,Nxe5,Nc6,Nxf7,Qe7,Nxh8,Ng4,O-O,Qh4,h3,Nxf2,Rxf2,Bxf2+,Kh1,d5,Nxd5', 'Bxh3,Qxh5+,Qxh5,Nf6+,gxf6', 'https://lichess.org/training/OWkNz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OWKYZ', 'Rapid', 'alenka_2016', 1813, 'TeKilla', 1823, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,h3,Na5,d4,exd4,cxd4,Bb4+,Nc3,Bd7,Bxf7+,Kxf7,Ng5+,Ke8,Qf3,Bxc3+,bxc3,Qf6,Qd3,a6,a4,Nb3,O-O,Nxa1,e5,dxe5,dxe5,Qf5,Qc4,h6,g4,Qg6,Ne4,Bc6,Ng3,Ne7,Ba3,Nc2,Bxe7,Kxe7,Nf5+,Ke8,Qd3,Bxa4', 'Nd6+,Qxd6,exd6', 'https://lichess.org/training/OWKYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('owmYe', 'Rapid', 'damnmi', 1837, 'Spartanecc', 1819, 'd4,c5,d5,e6,d6,Qb6,Nc3,Bxd6,e3,Bc7,Bc4,d5,Bb3,Nd7,a4,a5,Nb5,Ngf6,Nf3,Ne5,Nxc7+,Qxc7,Nxe5,Qxe5,O-O,Bd7,Re1,c4,f4,Qf5,Ba2,Bxa4,b3,cxb3,cxb3,Bc6,Bb2,O-O,Bb1,Ne4,g4,Qg6,Qd4,Qxg4+,Kf1,Qf3+,Kg1,Qf2+,Kh1,Qxe1+,Kg2,Qf2+,Kh3,Qf1+,Kg4,Nf6+,Kg3,Qg1+,Kf3,Qxh2,Bd3,Rfe8,Rf1,Bd7,Rf2,Qh5+,Kg2,e5,fxe5,Bh3+,Kg1,Ne4,Bxe4,dxe4,e6,Qg4+,Kh2,Rxe6,Qd7,Rae8', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/owmYe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OWNrF', 'Rapid', 'Capudo007', 1779, 'GreenRed1024', 1737, 'c4,e5,g3,c6,Bg2,Nf6,e3,e4,Nc3,d5,cxd5,cxd5,Nge2,Be7,O-O,O-O,h3,Be6,Kh2,Bb4,a3,Bxc3,dxc3,Qc8,Nd4,Bd7,f4,Nc6,Bd2,Nxd4,cxd4,b5,Rc1,Qe8,Bb4,Qe6,Rc5,Rfc8,Qd2,h6,Rfc1,a5,Bxa5,Rxa5,Qxa5,Rf8,Qd2,Qa6,Qb4,Rb8,b3,Ne8,a4,Nd6,Rxd5,Rb6,Rcc5,bxa4,Qa5,Qxa5,Rxa5,axb3,Ra1,b2,Rb1,Nc4,Rxd7,Nxe3,Rd6,Rxd6,Rxb2,Rxd4,Re2,Nxg2,Kxg2,f5,Kf2,Rd3,h4,Rf3+,Kg2,Rd3,g4,g6,g5,e3,Kf3,hxg5,hxg5,Kg7,Rxe3,Rd1,Re2,Rf1+,Ke3,Rh1,Rd2,Rh3+,Kf2,Rh2+,Ke3,Rh3+,Kd4,Rf3,Ke5,Re3+,Kd4,Rf3,Ke5,Re3+,Kd4,Rf3,Ke5,Re3+,Kd6,Rf3,Ke6,Rxf4,Rd7+,Kg8,Kf6,Re4,Kxg6,f4', 'Rd8+,Re8,Rxe8#', 'https://lichess.org/training/OWNrF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OWote', 'Classical', 'sobti16', 1845, 'Andredesouza', 1724, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Qf6,Bxd5,Be6,Bxe6,Qxe6,Nxh8,O-O-O,Qf3,Nd4,Qe4,Qc4,Na3,Bxa3,b3', 'Nxc2+,Qxc2,Qxc2', 'https://lichess.org/training/OWote');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OwOx3', 'Classical', 'torrepajarete', 1774, 'Chuvachkin', 1770, 'e4,e5,Bc4,Nf6,d3,Nc6,c3,Bc5,Ne2,O-O,O-O,d6,b4,Bb6,h3,d5,exd5,Nxd5,Nd2,a5,b5,Nce7,Nf3,Qd6,Ng5,Qg6,Kh1,h6,Ne4,Bf5,N4g3,Rad8,Nxf5,Nxf5,Qe1,Rfe8,Ng3,Nf4,Qe4,Nxg3+,fxg3,Qxg3,Bxf4,exf4,Qxf4,Qxf4,Rxf4,Re7,Raf1,Rdd7,d4,Kf8,Bd3,Re3,Bg6,f6,R4f3,Rde7,Rxe3,Rxe3,Rf3,Re1+,Kh2,Re2,a4,Ra2,Be4,Rxa4,Bxb7,Ra2,Rd3,a4,c4,Ba5,Bd5,Rb2,Ra3,Bc3,Rxa4,Bxd4,Ra8+,Ke7,Ra1,h5,Re1+,Kd6,Kg3', 'Bf2+,Kf3,Bxe1', 'https://lichess.org/training/OwOx3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OWqN8', 'Rapid', 'Fran08', 1829, 'Minecraftado', 1786, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,h3,Bxf3,Qxf3,e6,a3,a6,Bd3,Nc6,c3,Qb6,O-O,Nf6,Qg3,Na5,Nd2,Rc8,Re1,Rg8,Qf3,Bd6,g4,h6,h4,Bb8,g5,Qc7,g6,fxg6,Rxe6+,Kd7,Re5,Rce8,Rxe8,Rxe8,Bxg6', 'Re1+,Kg2,Qh2#', 'https://lichess.org/training/OWqN8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ows3T', 'Rapid', 'MoiRon', 1867, 'ansjovis86', 1956, 'f4,c5,Nf3,d5,e3,Nc6,Bb5,Bg4,b3,Nf6,Bb2,e6,O-O,a6,Bxc6+,bxc6,Qe1,Bxf3,Rxf3,Qb6,Nc3,d4,Na4,Qd8,e4,Be7,d3,Ng4,Bc1,O-O,Qg3,Ne3,Bxe3,dxe3,Re1', 'Bh4,Qxh4,Qxh4', 'https://lichess.org/training/ows3T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('owS55', 'Rapid', 'jame2019', 2234, 'Liosha-1978', 2197, 'Nc3,d5,e4,d4,Nce2,e5,f4,Nf6,d3,Bb4+,c3,Ba5,fxe5,Ng4,Nf3,Nc6,b4,Bb6,h3,Ngxe5,Nxe5,Nxe5,Bf4,Ng6,Bg3,Qe7,cxd4,Bxd4,Nxd4,Qxb4+,Qd2,Qxd4,Rc1,c6,Be2,O-O,Bf2,Qe5,O-O,Rd8,Qe3,Be6,d4,Qa5,a3,Re8,Qf3,Rad8,h4,f5,e5,Ne7,h5,Bd5,Qg3,Rf8,h6,Ng6,hxg7,Kxg7,Bh5,f4,Qg5,Be6', 'Bxg6,hxg6,Qe7+', 'https://lichess.org/training/owS55');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OWsGh', 'Classical', 'LEITMOTIV', 1729, 'Jamal1960', 1729, 'e4,g6,d4,Bg7,e5,d6,Qe2,dxe5,dxe5,c6,b3,Qa5+,c3,Bxe5,b4,Qd5,Nf3,Bg4,Qxe5,Qxe5+,Nxe5,Bf5,g4,Be4,f3,Bd5,c4,Be6,Bb2,f6,Nd3,Bxc4,Nf4,Bd5,Nxd5,cxd5,g5,Kf7,Bg2,Nd7,f4,e6,h4,Ne7,Nd2,Rac8,Rc1,Rxc1+,Bxc1,Rc8,O-O,Nf5,Nf3,Rc2,gxf6,Kxf6,Ng5,h6,Nf3,Rxa2,Bd2,Nxh4', 'Bc3+,Kf7,Nxh4', 'https://lichess.org/training/OWsGh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OwtfR', 'Rapid', 'MUras', 2095, 'YAVUZ2011', 1829, 'e4,e5,Nc3,Qf6,Qe2,Nc6,Nf3,d6,d4,Nxd4,Nxd4,exd4,Nd5,Qd8,Bg5,f6,Bd2,Be6,Qb5+,c6,Qxb7,cxd5', 'Bb5+,Bd7,Bxd7+,Qxd7,Qxa8+', 'https://lichess.org/training/OwtfR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oWUft', 'Rapid', 'hendralaseng', 2216, 'ayuCATUR', 2186, 'd4,Nf6,Nf3,d5,g3,Bf5,Bg2,e6,O-O,Be4,c4,c6,Bg5,Nbd7,cxd5,exd5,Nc3,Qb6,Nxe4,Nxe4,Bc1,Be7,e3,O-O,Qc2,Qa5,Bd2,Nxd2,Nxd2,Nf6,a3,Rfe8,b4,Qd8,Rad1,Bd6,Rfe1,Rc8,e4,dxe4,Nxe4,Nxe4,Bxe4,h6,Bf5,Rc7,Qd2,Rce7,Bg4,Kf8,Rxe7,Qxe7,d5,cxd5,Qxd5,Rd8,Kf1,b6,Re1', 'Qxe1+,Kxe1,Bxb4+,Kf1,Rxd5', 'https://lichess.org/training/oWUft');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oWVBH', 'Rapid', 'beanbag24', 1769, 'DivadLank', 1745, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,Bg4,Be2,O-O-O,c4,Qh5,Be3,e5,d5,e4,Nd4,Bxe2,Nxe2,Bb4+,Nbc3,Bxc3+,Nxc3,Qxd1+,Rxd1,Nb4,O-O,f5,a3,Nd3,b4,a6,Bd4,Rd7,f3,Nb2,fxe4,Nxd1,Nxd1,fxe4', 'Rf8+,Rd8,Rxd8+,Kxd8,Bxg7', 'https://lichess.org/training/oWVBH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Owvj7', 'Rapid', 'Karpovff', 1761, 'elhormiga', 1856, 'e4,e5,f4,Qh4+,g3,Qe7,Nc3,exf4,Nf3,fxg3,hxg3,d6,d4,Bg4,Bd3,Nc6,Nd5,Qd7,O-O,Bxf3,Qxf3,Nxd4,Qf2,Ne6,Bd2,Be7,Qxf7+,Kd8,a4,Nf6,Bb5,c6,Nxf6,gxf6,Bc4,Ng5,Qg7,Re8,Bxg5,fxg5,Bf7,d5,Bxe8', 'Bc5+,Kg2,Qxg7', 'https://lichess.org/training/Owvj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Owvnk', 'Rapid', 'Oleksander2019', 1710, 'elEz5', 1677, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,c6,Bc4,Nf6,Bf4,O-O,h3,Nbd7,e5,Nh5,Qd2,Nxf4,Qxf4,dxe5,Nxe5,Qc7', 'Bxf7+,Rxf7,Qxf7+', 'https://lichess.org/training/Owvnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('owvOf', 'Rapid', 'mcjh', 1649, 'nkhaitov', 1639, 'd4,c5,c4,cxd4,Nf3,Nc6,Nxd4,e5,Nxc6,bxc6,Nc3,Bb4,e3,Nf6,Qc2,d5,cxd5,cxd5', 'Qa4+,Kf8,Qxb4+', 'https://lichess.org/training/owvOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oWwbw', 'Rapid', 'abdallah122', 2032, 'B-M-B', 2033, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bb5,Nf6,O-O,g6,Re1,Bg7,Ne5,Bd7,Nxd7,Qxd7,Bxc6,bxc6,Qe2,e6,Bg5,Ne4,Be3,O-O,f3,Nf6,Kh1,Rab8,b3,Rb7,Nc3,Ne8,Qd2,Nd6,Ne2,Nf5,Bf2,h5,c3,e5,Ng3,exd4,Nxf5,dxc3,Qg5,Qxf5,Qxf5,gxf5,Rac1,d4,Red1,c5,Kg1,Re8,Bg3,Bh6,Rc2,f4,Bf2,Rbe7,Kf1,a5,Bh4,Ra7,Bf2,a4,b4,cxb4,Rxd4,Rb8,Rxb4,Rxb4,Bxa7,Rb1+,Ke2,Rb2,Kd3,Bg7,Bb6,Rb1,Ba5,Rd1+,Ke4,Rd2', 'Rxd2,cxd2,Bxd2', 'https://lichess.org/training/oWwbw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('owwJc', 'Rapid', 'Hogwash', 1670, 'Sgt_Peppers', 1708, 'd4,d5,g3,Nc6,c3,Nf6,Bg2,e5,dxe5,Nxe5,Bg5,c6,Nf3,Bd6,Nxe5,Bxe5,Nd2,O-O,O-O,h6,Bxf6,Bxf6,Re1,Bg4,h3,Bh5,g4,Bg6,e4,d4,e5,Bg5,Nf3,Re8,Qxd4,Qxd4,cxd4,Rad8,Nxg5,hxg5,Rad1,f6,e6,Bc2,Rd2,Ba4,b3,Bb5,d5,cxd5,Bxd5,Bc6,e7+', 'Rxd5,Rxd5,Bxd5', 'https://lichess.org/training/owwJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OWXpT', 'Rapid', 'AlixM', 1973, 'zeb2017', 1937, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,e5,Qd3,Be7,O-O-O,a6,Bxf6,Bxf6,Qxd6,Qxd6,Rxd6,O-O,Nd5,Bxd5,Rxd5,Rfe8,Rhd1,Rac8,Rd7,b5,Ra7,Rc6,Rdd7,Rf8,Rdc7,Rxc7,Rxc7,Ra8,Rc5,Bd8,Rxe5,Bb6,Re7,Bxf2,Ng5,Be3+,Kb1,Bxg5,Rd7,Rd8,Rxd8+,Bxd8,c3,Bc7,h3,g6,Kc2,f5,exf5,gxf5,Kd3,Kf7,c4,bxc4+,Kxc4,Ke7,b4,Kd6,b5,axb5+,Kxb5,h5,a4,f4,a5,Kd5,a6,Bb8,Kb6,Kd6', 'Kb7,Ba7,Kxa7', 'https://lichess.org/training/OWXpT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('owYHN', 'Rapid', 'rbombpl', 2074, 'geokey888', 2085, 'd4,c6,Nc3,d5,Bf4,Bf5,Nf3,e6,a3,Bd6,Be5,Bxe5,Nxe5,Nd7,Nxd7,Qxd7,e3,Nf6,h3,h6,Bd3,Bxd3,Qxd3,O-O,e4,dxe4,Nxe4,Nxe4,Qxe4,Rad8,c3,Qd5,f3,Qb3,Qe2,Rfe8,O-O,f6,Rab1,e5,dxe5,Rxe5,Qf2,b6,Rfe1,Rde8,Rxe5,Rxe5,Qd2,Rd5,Qe2,Re5,Qd2,Qd5,Qc2,Qc5+,Kh1,Re3,Rd1,Qe7,Qf5,Qe8,Qd7', 'Re1+,Rxe1,Qxd7', 'https://lichess.org/training/owYHN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OwyWq', 'Rapid', 'Jantimman234', 1880, 'SacUrQueen', 1737, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,e6,Ne5,Bxe2,Qxe2,Nf6,O-O,Nc6,c3,Bd6,f4,O-O,Ng4,Ne4,Qf3,Qb6,Kh1,Rac8,f5,exf5,Qxf5,Ne7,Qh5,Ng6,Nd2,Rce8,Nxe4,dxe4,Be3,Qxb2,c4,b6,Rab1,Qxa2,c5,bxc5,dxc5,Bc7,Rb7,Rc8,c6,Ne7,Rxa7,Qd5,Qxd5,Nxd5,Bc5,Rfe8,Ra3,Ne7,Bxe7,Rxe7,Ne3,h6,h4,Re6,Rc3,Be5,Rc4,Bg3,Nf5,Bb8,g4,Rcxc6', 'Rxc6,Rxc6,Ne7+,Kf8,Nxc6', 'https://lichess.org/training/OwyWq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oWZ0a', 'Rapid', 'lucasleandro', 1880, 'Phemmy', 1893, 'c3,d5,d3,e5,g3,Nc6,Bg2,Nf6,Nd2,Bd6,Qb3,d4,Nc4,O-O,Nxd6,Qxd6,c4,Rb8,a4,Na5,Qc2,Be6,Bd2,Nc6,Rb1,a5,f4,Rfe8,Nh3,Ng4,Ng5,Ne3,Bxe3,dxe3,d4,Nxd4,Qxh7+,Kf8,Rd1,Bf5,Qh8+,Ke7,Qxg7', 'Nc2+,Kf1,Qxd1#', 'https://lichess.org/training/oWZ0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('owZeM', 'Rapid', 'tarraschhauer', 1604, 'alex__alex', 1771, 'e4,c5,f4,e6,Nf3,Nc6,Nc3,a6,d3,Qc7,g3,d5,Bg2,d4,Ne2,Be7,c3,dxc3,bxc3,Bd7,Bb2,f6,O-O,Nh6,h3,Nf7,d4,O-O,e5,cxd4,cxd4,fxe5,dxe5,Bc5+,Kh1,Rad8,Qb3,Qb6,Ned4,Nxd4,Nxd4', 'Bxd4,Bxd4,Qxd4', 'https://lichess.org/training/owZeM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OWZsP', 'Blitz', 'happyhappyguy', 1953, 'Larssov', 2067, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Ne2,Qb6,O-O,c5,c3,Nc6,dxc5,Bxc5,b4,Bf8,Be3,Qc7,f4,Nge7,Nd2,Nf5,Bf2,Be7,g4,Nh6,h3,f6,exf6,gxf6,Be3,Nf7,Nb3,Rd8,Ned4,Qd7,f5,e5,Ne6,e4,Qb5,Nce5,Qa5,Rc8,Nbc5,Bxc5,Nxc5,Qc6,Qxa7,O-O,Bd4,Nf3+,Kg2,Qd6,Rh1,Qf4,Raf1,N7g5,Ne6,Nxe6,fxe6,Rce8,Qxb7,Rxe6,Qxd5', 'Nh4+,Kg1,Qg3#', 'https://lichess.org/training/OWZsP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OX0XZ', 'Rapid', 'Serge17', 1992, 'arisaljabrik3', 1897, 'e4,c5,c3,e5,d4,cxd4,cxd4,exd4,Qxd4,Nc6,Qe3,Nf6,Nc3,Bb4,Bd2,b6,O-O-O,O-O,Qg3,Re8,f3,Bb7,a3,Ba5,b4,Nxb4,axb4,Bxb4,Kb2,Rc8,e5,Bxc3+,Bxc3,Nd5,Rc1,d6,e6,Nxc3,Rxc3,Rxe6,Rxc8,Qxc8,Bd3,Qc5,Qh4,Qe5+,Kc2,g6,Ne2,Re8,Qd4,Rc8+,Kd2,Qa5+,Ke3,Re8+,Kf2,Qd2,Re1,Ba6,Bxa6', 'Rxe2+,Rxe2,Qxd4+', 'https://lichess.org/training/OX0XZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ox7AO', 'Rapid', 'tahirpk', 2112, 'khansab', 2169, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d5,e3,c5,h3,Nc6,cxd5,Nxd5,Bb5,Nxc3,bxc3,cxd4,cxd4', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/Ox7AO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oX7Y0', 'Blitz', 'GMid', 1692, 'Apfelschorle', 1518, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nc6,Bb5,Nf6,h3,Bf5,Nf3,e6,a3,Bd6,Bg5,O-O,O-O,h6,Bh4,g5,Bg3,Bxg3,fxg3,Qd6,Qe1,Bxc2,Qf2,Bg6,Bxc6,bxc6,Ne5,Nd7,Nxd7,Qxd7,Qf6,Qc7,g4,Rab8,b4,Qb6,Na4,Qa6,Nc5,Qe2,Nd7,Qe3+,Kh1,Be4,Nxb8', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/oX7Y0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ox8Ih', 'Classical', 'cueman87', 1726, 'BaconBen', 1787, 'd4,g6,Nf3,Nf6,c4,d5,a3,Bg7,e3,O-O,Nc3,Nc6,Be2,Re8,O-O,dxc4,Bxc4,b6,b4,a6,Bb2,Bb7,d5,Nb8,Ne5,Nbd7,Nc6,Qc8,Qe2,b5,Ba2,Nb8,e4,Nxc6,dxc6,Bxc6,e5,Nd7,e6,Ne5,exf7+,Nxf7,Ne4,Bxe4,Bxg7,Kxg7,Qxe4,Qf5,Qh4,c5,Rac1,c4,Bb1,Qg5,Qd4+,Qf6,Qc5,Rec8,Qe3,Kf8,Be4,Rab8,Qa7,Qb6,Qd7,Qd6,Qh3,Ng5', 'Qh6+,Kg8,Qxg5', 'https://lichess.org/training/ox8Ih');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ox9fo', 'Rapid', 'AlkinKing', 2092, 'Ajjal479', 2179, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nf3,Be6,O-O,Be7,Be3,Nbd7,h3,Rc8,Nh2,b5,Ng4,O-O,Nxf6+,Nxf6,Bd3,Nd7,Nd5,Bxd5,exd5,Nf6,f4,exf4,Bxf4,Kh8,Bf5,Qb6+,Kh1,Rc7,Re1,Qc5,c3,Nxd5,Qh5,g6,Bxg6,fxg6,Qh6,Rcc8,Be3,Qc7,Bd4+,Bf6,Re6,Bxd4,cxd4,Qg7,Qd2,Rcd8,Rae1,Qf7,Qg5,Qf5,Qh6,Rd7,Re8,Rf7,R1e6,Qf1+,Kh2,Qf4+,Qxf4,Rxf4,Rxf8+,Rxf8,Rxd6,Nc7,Rd7,Ne6,d5,Nc5,Rc7,Ne4,Re7,Nd6,Re6,Rd8,g4,Kg7,Kg3,Rd7,g5,Nf5+,Kf4,Rxd5,Rxa6,Rd7,Rb6,Nd4,Ke5,h6,h4,Nf3+,Ke6,Rf7', 'gxh6+,Kg8,Rb8+,Rf8,h7+,Kxh7,Rxf8', 'https://lichess.org/training/Ox9fo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ox9NU', 'Rapid', 'Kingsman7', 1679, 'Entomb', 1748, 'g3,Nf6,Bg2,g6,d4,Bg7,e4,d6,Nc3,O-O,Nge2,Nc6,d5,Ne5,f4,Ned7,Nd4,Re8,O-O,e5,dxe6,fxe6,Nb3,c6,Qxd6,Qb6+,Kh1,Ng4,Qd2,a5,Qe2,h5,e5,Qc7,Ne4,b5,Nd6,Rd8,Qe4,Kh7,Qxg6+,Kxg6', 'Be4+,Kh6,Nf7#', 'https://lichess.org/training/Ox9NU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OXaaE', 'Rapid', 'Sneakmasterflex', 1778, 'thiaguinho', 1831, 'e4,e6,Nc3,d5,Nf3,c5,exd5,exd5,Bb5+,Nc6,d4,Nf6,O-O,Be7,h3,O-O,Be3,cxd4,Nxd4,Nxd4,Qxd4,a6,Be2,Be6,Bf3,Rc8,Rfd1,Rc4,Qd2,Bb4,Bd4,Ne4,Qd3,Bf5,Nxe4,dxe4,Qxc4,exf3,Be3,Qe7,c3,Bd6,g4,Qh4,Rxd6', 'Qxh3,Qf1,Qxg4+', 'https://lichess.org/training/OXaaE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OxACq', 'Blitz', 'JoeyvTheBeginner', 2185, 'EmilSplat', 2214, 'd4,f5,Nf3,Nf6,g3,g6,h4,b6,h5,Nxh5,Rxh5,gxh5,e4,Bb7,Ng5,d6,Qxh5+,Kd7,Nf7,Qe8,Qxf5+,e6,Qh5,Rg8,d5,Bg7,dxe6+,Qxe6,Bh3,Bxe4,Bxe6+,Kxe6,Ng5+,Kd7,Nxe4,Nc6,Qf7+,Ne7,Bg5,Rae8,Bxe7,Bxb2,Bf6+,Kc8,Bxb2,Rxe4+,Kd2,Rge8,Nc3', 'Rd4+,Kc1,Re1+,Nd1,Rexd1#', 'https://lichess.org/training/OxACq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OXbkl', 'Blitz', 'conan64', 1766, 'davidasilb', 1732, 'd4,Nf6,Nf3,d5,Bf4,Bf5,e3,e6,c3,c5,Bd3,Bg6,Ne5,Bxd3,Qxd3,cxd4,exd4,Be7,Nd2,Nbd7,Ndf3,O-O,O-O,a6,h4,Nxe5,dxe5,Ne4,h5,Rc8,h6,Ng5,hxg7,Kxg7,Qe3,Nxf3+,Qxf3,Bg5,Qg4,h6,Be3,Kh7,f4,Be7,Qh5,Bc5,Bxc5,Rxc5,Rf3,Rc4,Rh3,f6,Qxh6+,Kg8,Rg3+,Kf7,Qh7+,Ke8,Rg8,Rxg8,Qxg8+,Kd7,Qxd8+,Kxd8,g3,fxe5,fxe5,Re4,Kf2,Rxe5,Re1,Rxe1,Kxe1,Ke7,Ke2,Kf6,Ke3,Kf5,b3,Ke5,a3,b5,g4,a5,b4,a4,Kf3,Kf6,Kf4,e5+,Kf3,Kg5,Kg3,d4', 'cxd4,exd4,Kf3,d3,Ke3', 'https://lichess.org/training/OXbkl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OxbUr', 'Rapid', 'KanaKana', 2143, 'ElOvejo', 2015, 'b3,Nf6,Bb2,g6,e4,d6,Bxf6,exf6,d4,Bg7,Nf3,Nd7,Bd3,O-O,O-O,c5,c3,b6,Nbd2,Bb7,Nc4,Qc7,Re1,Rae8,Rc1,b5,Ne3,a6,Nd5,Bxd5,exd5,cxd4,cxd4,Qb7,Rc6,Nb6,Rxd6,Nxd5,Be4', 'Rxe4,Rxe4,Nc3,Re1,Nxd1', 'https://lichess.org/training/OxbUr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OXbZz', 'Rapid', 'SpaceTimeAks', 2023, 'Lakshya7sachdev', 1932, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,b3,Nf6,Bb2,Bc5,Qe5+,Qe7,Qxe7+,Bxe7,e5,Nh5,Be2,Nf4,Bf3,Rb8,Bc1,Ng6,Bb2,Ba6,c4,Bb4+,Nc3,O-O,O-O-O,Nxe5,Nd5,Nxf3,gxf3,Bd6,Rdg1,f6,h4,c6', 'Nxf6+,Rxf6,Bxf6', 'https://lichess.org/training/OXbZz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OxChC', 'Rapid', 'sabuj2015', 2120, 'iamletmethink', 2138, 'd4,e6,c4,d5,Nc3,Nf6,a3,Be7,f3,Bd6,e4,dxe4,fxe4,Nxe4,Nxe4,Qh4+,Nf2,Nc6,Nf3,Qf6,Bg5,Qg6,Bd3,f5,O-O,Nxd4,Nxd4,Qxg5,Re1,e5,Nh3,Qf6,Qf3,O-O,Qd5+,Kh8,Nb5,Be6,Qxb7,Bc5+,Kh1,Rab8,Qa6,Bb6,b4,e4,Be2,c5,Nxa7,Bxa7,Qxa7,cxb4,axb4,Rxb4,Ra6,Qc3,Rea1,Bxc4,Bxc4,Rxc4,Qe7,Rcc8,Ra7,e3,R1a3,Qc1+,Ng1', 'Qxg1+,Kxg1,Rc1#', 'https://lichess.org/training/OxChC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxcRV', 'Rapid', 'Janxxx79', 2012, 'soheil_homayounfar', 1976, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,Bxc6+,bxc6,d4,exd4,Qxd4,Be7,Bg5,O-O,O-O-O,c5,Qe3,Qd7,e5,Ng4,Qe4,Nxf2,Qxa8,Nxd1,Rxd1,Bxg5+,Nxg5,Qg4,Nh3,dxe5,Kb1,Bf5,Qf3', 'Qxf3,gxf3,Bxh3', 'https://lichess.org/training/oxcRV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OXD4f', 'Rapid', 'Lexoba', 1911, 'aadhya17', 1880, 'd4,d5,e3,e6,c4,Bd6,cxd5,exd5,Nc3,c6,e4,Nf6,e5,Qe7,Be2,Bxe5,dxe5,Qxe5,Nf3,Qc7,O-O,O-O,Bg5,Nfd7,Qd2,f6,Bf4,Ne5,Nd4,Qf7,Bxe5,fxe5,Nf3,Qf6,b3,Be6,Rae1,Nd7,Ng5,Bf5,Nf3,Rad8,Bd1,Bg6,Bc2,Bxc2,Qxc2,e4,Nd2,Ne5,Na4,Nd3,Re3,Nxf2,Nxe4,Nh3+,gxh3', 'Qxf1#', 'https://lichess.org/training/OXD4f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXDDE', 'Classical', 'Ayah_Nazmi_Zuhayr', 1988, 'sambath2358', 2030, 'd4,d5,Bf4,Bf5,e3,e6,Bd3,Bg6,h4,Nf6,h5,Bxd3,Qxd3,c5,h6,c4,Qd2,Qb6,c3,Ne4,Qc2,g5,Bxb8,Rxb8,Nd2,f5,Ne2,Bd6,Qa4+,Kf7,Nxe4,fxe4,O-O-O,Qc7,f3,b5,Qc2,exf3,gxf3,Kf6,Rdg1,Rhg8,e4,Bf4+,Kb1,Rg6,exd5,exd5,Rg4,Rbg8,Rh5,Bd6,f4,Qd7,fxg5+,Rxg5,Rhxg5,Rxg5,Rxg5,Kxg5,Qd2+,Kg6,Nf4+', 'Bxf4,Qxf4,Qf5+,Qxf5+,Kxf5', 'https://lichess.org/training/oXDDE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxdUB', 'Rapid', 'Locksmith_23', 2124, 'majid_alsalhi', 2068, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,Bg5,h6,Bh4,Be6,Nd5,Bxd5,exd5,Na5,O-O,O-O,c3,Nxc4,dxc4,g5,Bg3,Nh5,b4,Bb6,c5,Nxg3,hxg3,dxc5,Nxe5,cxb4,Qh5,Qd6,Ng4,Kg7,cxb4,f5,Nh2,Qxg3,Kh1,Bxf2,Qe2,Bd4,Rae1,Rae8,Qxe8,Rxe8,Rxe8,Be5,Nf3,Bd6,Kg1,Bxb4,Nd4,Bc5,Re7+,Bxe7', 'Nxf5+,Kg6,Nxg3', 'https://lichess.org/training/oxdUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxEhQ', 'Blitz', 'Elpalton', 1598, 'nachtmare', 1584, 'd4,e6,Nf3,Nf6,e3,d5,Bd3,c5,dxc5,Bxc5,c3,Qb6,Qc2,Nc6,a4,O-O,a5,Qc7,Nbd2,e5,O-O,e4,Be2,exf3,Bxf3,Be6,b4,Bd6,b5,Ne5,Ba3,Nxf3+,Nxf3,Bxa3,Rxa3,b6,axb6,axb6,Rb3,Bg4,Nd4,Ne4,f3,Bxf3,Rxf3,Ra1+,Rb1,Rxb1+,Qxb1,Qxc3,Nc6,Nd2', 'Ne7+,Kh8,Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/oxEhQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXepH', 'Rapid', 'shamiknag', 1925, 'lucioc84', 1982, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Be3,c5,f4,Nc6,Nf3,Be7,Be2,O-O,O-O,a6,Na4,cxd4,Nxd4,Nxd4,Qxd4,b5,Nb6', 'Bc5,Qxc5,Nxc5', 'https://lichess.org/training/oXepH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxEVQ', 'Blitz', 'Saeidbero', 2321, 'NM lucia-miami', 2304, 'd4,d5,Nf3,Nf6,c4,e6,Bg5,Nbd7,e3,Be7,Bd3,O-O,O-O,dxc4,Bxc4,a6,Nc3,b5,Bd3,Bb7,Qe2,c5,Rad1,cxd4,exd4,Nb6,Ne5,Nbd5,Rfe1,Rc8,Ne4,Nxe4,Qxe4,f5,Bxe7,Qxe7,Qf3,Nb4,Qh3,Nxd3,Nxd3,Bd5,Nc5,Rxc5,dxc5,Qxc5,Qc3,Qxc3,bxc3,Rc8,Re3,Kf7,h3,Rc4,Rd4,Rc6,a4,g5,axb5,axb5,Rd1,Ra6,Rb1,Ra5,f3,Kf6,Kf2,h5,Rb4,Bc4,Rb2,h4,Re1,Ra3,Rc1,Ke5,Ke3,f4+,Kf2,Kf5,Rd2,Ke5,Rcc2,Ra1,Re2+,Bxe2,Rxe2+,Kf5,Rb2,Rc1,Rxb5+,e5,Rc5,Rc2+,Kf1,Ke6,Rc8,e4,fxe4,Ke5,Rc4,Ke6,Rc5,Kf6,c4,Kg6,Rc6+,Kf7,e5,Ke7,c5,Kf7,Rc7+,Ke6,Rg7,Kf5,e6,Rxc5,e7,Re5,Kf2,Kf6,Rh7,Rxe7,Rh6+,Kf5,Rc6,Re5,Rc8,Ra5,Rf8+,Kg6,Rg8+,Kf5,Rf8+,Ke4,Re8+,Re5,Rg8,Rd5,Re8+,Re5,Ra8,Rd5,Ra4+,Rd4,Ra5,Rd3,Rxg5,Rd5', 'Rxd5,Kxd5,Kf3,Kd4,Kxf4', 'https://lichess.org/training/oxEVQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXFNV', 'Bullet', 'Anisaaa99', 2082, 'PepeSantoro', 1997, 'c4,e6,Nc3,f5,d4,Nf6,Qc2,b6,e4,fxe4,Nxe4,Bb7,Bd3,Bb4+,Bd2,Bxd2+,Kxd2,Nxe4+,Bxe4,Bxe4,Qxe4,Nc6,Nf3,O-O,Rad1,Qf6,Kc1,Qf4+,Qxf4,Rxf4,a3,Na5,c5,g5,Kb1,g4,Ne5,Rxf2,Nxd7,Nc4,Rhf1,Rxb2+,Ka1,Rxg2,Rf4,Ne3,Rd3,Nd5,Re4,Rd8,c6,Kf7,h3,Ne7,hxg4,Nxc6,Rf3+,Ke7,d5,Rxd7', 'Rxe6+,Kd8,Rf8#', 'https://lichess.org/training/oXFNV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXgAG', 'Rapid', 'viereck2', 1668, 'iSHURABLACKi', 1704, 'e4,e5,f4,exf4,Nf3,Bc5,d4,Bb6,Bxf4,Nf6,Bc4,O-O,e5,d5,exf6,Re8+,Kf2,dxc4,fxg7,Bg4,c3,c5,d5,Bxf3,Qxf3,Nd7,Nd2,Ne5,Bxe5,Rxe5,Nxc4', 'Qh4+,g3,Qxc4', 'https://lichess.org/training/oXgAG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OXghI', 'Blitz', 'mtoely', 1670, 'Ignatiev06', 1982, 'e4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,e6,d4,Nf6,Nxf5,exf5,Nf3,c6,Bd3,Nbd7,Bxf5,Be7,O-O,O-O,Bf4,Nd5,Bg3,Qb6,c4,N5f6,Re1,Rfe8,Ne5,Nxe5,dxe5,Rad8,Qc2,Nd7,Bxh7+,Kh8,Qf5,Nf8,e6,Nxh7,exf7,Rf8,Rxe7,Qxb2,Be5', 'Qxa1+,Bxa1,Rd1+,Re1,Rxe1#', 'https://lichess.org/training/OXghI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OXh4A', 'Rapid', 'yuio', 2026, 'z52', 1919, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Bd7,b4,cxd4,cxd4,Nge7,Nc3,Nf5,Na4,Qd8,Bb2,Nh4,Rc1,Be7,Bd3,O-O,O-O,b6,Bb1,Nxf3+,gxf3,Bg5,Rxc6,Bxc6,Qc2,g6,Qxc6,Rc8,Qb5,Bf4,h3,Qh4,Kg2,f6,Qd7,Rce8,Nc3,fxe5,Ne2,Qf6,dxe5,Bxe5,Bxe5,Qxe5,Ng3,Qf4,h4,Qxf3+,Kh2,Qg4,h5,Qh4+,Kg2,gxh5', 'Qxh7#', 'https://lichess.org/training/OXh4A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxhhE', 'Rapid', 'CatalinFrancu', 1674, 'cementeriodepeones', 1605, 'd4,d5,c4,dxc4,Nc3,Bf5,e3,e6,Bxc4,Bb4,Bd2,Nf6,Nf3,Bg4,O-O,O-O,Qa4,Bxf3,Qxb4,Bc6,Ne2,Ne4,Rfd1,Qf6,Ng3,Qxf2+,Kh1,Nxg3+,hxg3,Qxg3,Rg1,f5,Be1,Qxe3,Bd2,Qxd4,Bxe6+,Kh8,Qxd4,Na6,Bc3,Rf6,Bxf5', 'Rh6+,Qh4,Rxh4+,Bh3,Rxh3#', 'https://lichess.org/training/oxhhE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXHNc', 'Blitz', 'tiptop55', 1954, 'umud08', 1773, 'e4,e5,f4,d6,Nf3,f5,exf5,Bxf5,fxe5,dxe5,Nxe5,Nf6,Bc4,Bc5,c3,Qd6,d4,Nbd7,Nf7,Qe7+,Qe2,Qxe2+,Kxe2,Bg4+,Kd3,Bf5+,Kd2,Ne4+,Ke1,Rf8,dxc5,Ndxc5,Ne5,Bd7,Nxd7,Nxd7,Be3,Ne5,Bb3,Nd3+,Ke2,Rd8,Rd1,Nxb2,Rxd8+,Kxd8,Nd2', 'Nxc3+,Ke1,Nd3#', 'https://lichess.org/training/oXHNc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OXI1w', 'Rapid', 'joshua129', 1828, 'zilot', 1876, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,c3,Nxd4,Qxd4,Be7,Qxg7,Bf6,Qg3,d6,Bb5+,Bd7,Bxd7+,Qxd7,Bg5,Qb5,Bxf6,Nxf6,b4,Nxe4,Qe3,O-O-O,Qxa7,Rde8,Kd1,Nxf2+,Qxf2,Re5,Re1,Rxe1+,Qxe1,Re8,Qf2,Qd3+,Kc1', 'Re2,Qxe2,Qxe2', 'https://lichess.org/training/OXI1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxIgp', 'Rapid', 'womanizer', 1741, 'marvinruiz00', 1765, 'd4,c5,d5,e6,dxe6,dxe6,Qxd8+,Kxd8,Nc3,Bd7,Bf4,Nf6,Nf3,g6,e4,Bg7,e5,Nh5,Bg3,Nc6,h3,Ke7,a3,Rhe8,Bh4+,f6,exf6+,Nxf6,Ne4,Rab8,Nxf6,Bxf6,Bxf6+,Kxf6,O-O-O,Re7,Bb5,a6,Bxc6,Bxc6,Rhe1,b5,Re3,a5,g4,h6,Rd6,Bd5,Ng1,b4,axb4,Rxb4,Ra6,Rb5,Ne2,Bb7,Rd6,c4,Nc3,Rc5,Na4,Rb5,Rb6,Rxb6,Nxb6,Bd5,Nxd5+,exd5,Rxe7,Kxe7,f4,Kf6,Kd2,h5,Ke3,hxg4,hxg4,Ke6,Kd4,a4,Kc5', 'c3,bxc3,a3', 'https://lichess.org/training/oxIgp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxijK', 'Rapid', 'hamir', 1924, 'laburle', 1906, 'e4,e6,Qe2,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bd7,d4,Bc6,g3,Bb4,Be3,Nf6,a3,Bxc3+,bxc3,Ne4,Qd3,Nd7,Bg2,Ndf6,O-O,Nd6,Rfe1,Be4,Qe2,c6,Bg5,O-O,Nh4,Bxg2,Nxg2,h6,Bf4,Nd5,Qd3,Nxf4,Nxf4,Qc7,a4,Rad8,Re5,Nf5,a5,Ne7,Qc4,Rd7,a6,b5,Qe2,Nd5,Nh5,Nxc3,Qg4,f5,Qg6,Rxd4,Rxe6,Nd5,Re8,Qf7,Rxf8+,Kxf8,Qxc6,Qxh5', 'Qc5+,Kg8,Qxd4', 'https://lichess.org/training/oxijK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXjHo', 'Rapid', 'A66otgman', 1855, 'khos', 2048, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,h3,Bd7,Re1,Be7,Ba4,O-O,c3,h6,Bc2,Re8,d4,Bf8,Nbd2,a6,Nf1,Nh7,Ng3,b5,Nf5,Re6,d5,Rf6,dxc6,Bxc6,Be3,Bd7,Ng3,g5,Bb3,Be6,Bd5,Bxd5,Qxd5,Rg6,Nf5,Nf6,Qd3,g4,N3h4,gxh3,Nxg6,fxg6,Nxh6+,Bxh6,Bxh6,Kh7,Qxh3,Nh5,Be3,Kg7,g3,Qe7,Kg2,Rh8,Qg4,Nf6,Bg5,Rh2+,Kf3', 'Rxf2+,Kxf2,Nxg4+', 'https://lichess.org/training/oXjHo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxJvp', 'Blitz', 'Keule78', 1737, 'Belano666', 1737, 'd4,Nf6,Nf3,e6,c4,c5,Nc3,Nc6,Bg5,cxd4,Nxd4,Be7,e3,d5,cxd5,Nxd5,Bxe7,Qxe7,Nxd5,exd5,Bb5,Qb4+,Qd2,Qxd2+,Kxd2,Bd7,Rac1,Nxd4,Bxd7+,Kxd7,exd4,Rac8,Rc3,Kd6,Rhc1,Rc6,b4,Rhc8,a4,Rc4,Rxc4,Rxc4,Rxc4,dxc4,Kc3,Kd5,f3,a6,b5,axb5,axb5,b6,g4,h6,h4', 'g5,h5,f6,Kc2,Kxd4', 'https://lichess.org/training/oxJvp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxlM8', 'Rapid', 'verdeckel', 2006, 'Mery77', 1924, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,gxf3,dxe5,Qxd8+,Kxd8,Nc3,Nf6,Bg5,Be7,O-O-O+,Ke8,Nb5,Na6,Bh3,Rd8,Bxf6,Bxf6,Nxa7,c6,Nc8,Bg5+,Kb1,Rd4,Nd6+,Kf8,Rxd4,exd4,Rd1,c5,Bc8,Ke7,Nf5+,Kf6,Bxb7,Nc7,b3,Rb8,Bc6,Rb6,Ba4,Bf4,Ng3,g6,c3,Ne6,Bd7,Ng5,Bg4,h5,h4,hxg4,hxg5+,Kxg5,fxg4,Kxg4,cxd4,cxd4,Rxd4,Bxg3,fxg3,Kxg3,Kb2,g5,a4,g4,a5,Ra6,b4,Kh2,Rd2+,Kh3,Rf2,f6,Kc3,g3,Rf3,Kg4,Rf1,g2,Ra1,Kf3,b5', 'Rxa5,Rxa5,g1=Q', 'https://lichess.org/training/oxlM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OxLN8', 'Rapid', 'Nourana', 1734, 'william5626', 1663, 'Nf3,e6,Nc3,d5,d4,c5,e3,Nc6,Bb5,Qb6,Ne5,a6,Bxc6+,bxc6,Na4,Qa5+,Nc3,cxd4,exd4,c5,dxc5,Bxc5,Bd2,Qc7,Nd3,Bd6,h3,Nf6,O-O,O-O,Bg5,Bb7,Bxf6,gxf6,Qg4+,Kh8,Qh4,Be7,Nf4,f5,Qg3,Rg8', 'Ng6+,hxg6,Qxc7', 'https://lichess.org/training/OxLN8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXMoO', 'Bullet', 'sadullaguseinov', 1940, 'NM Fishfinger', 1993, 'e4,e5,Nc3,Nf6,Bc4,Nc6,d3,Na5,Bb3,Nxb3,axb3,d5,Nge2,dxe4,Nxe4,Nxe4,dxe4,Qxd1+,Kxd1,Bc5,f3,O-O,Nc3,Be6,Ke2,Rfd8,Be3,Bxe3,Kxe3,a6,g4,c6,h4,f6,h5,Kf7,h6,g5,Ne2,Rd7,Rad1,Rad8,Rxd7+,Rxd7,c4,b5,Rc1,Kg6,cxb5,cxb5,Rc6,Bxb3,Rxa6,Rc7,Ng3,Rc2,Nf5,Rxb2,Ra7,Bf7,Nd6,Bc4', 'Rg7+,Kxh6,Nf5#', 'https://lichess.org/training/oXMoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxnGk', 'Classical', 'presarioad', 1881, 'anand1973', 1864, 'd4,d5,c4,dxc4,e4,b5,b3,Ba6,bxc4,bxc4,Qa4+,c6,Bxc4,Qxd4', 'Bxf7+,Kxf7,Qxd4', 'https://lichess.org/training/oxnGk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OxozI', 'Rapid', 'justheretolearn', 1608, 'jagga007', 1656, 'e4,e5,Nf3,d6,d4,Nc6,dxe5,Bg4,exd6,Bxd6,Bb5,Nf6,O-O,O-O,Re1,Ne5,Nbd2,c6,Be2,Qc7,Nxe5,Bxe2,Qxe2,Bxe5,c3,Rad8,Nf3,Bd6,Bg5,Be7,e5,Nd5,Bxe7,Qxe7,Rad1,Rfe8,Nd4,Qg5,Nf3,Qg6,c4,Nf4,Rxd8,Rxd8,Qf1,Qc2,g3,Ne6,Qe2,Qf5,Nh4,Qh3,Rd1,Rf8,Nf3,Qh5,Nd4,Qg6,Nxe6,fxe6,f4,Rxf4,Qd3,Rf5,Qd8+,Rf8,Qd7,Qf5,Qxb7,Qxe5,Qxc6,Qe2,Qd6,Qe3+,Kh1,Qf3+,Kg1,Qf2+,Kh1,Qf3+,Kg1,Qe2,Qd2', 'Rf1+,Rxf1,Qxd2', 'https://lichess.org/training/OxozI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OxpsF', 'Blitz', 'NM janisdaudz', 2130, 'EloHunter2021', 2204, 'f4,f5,e4,e6,Nc3,Bb4,Bd3,Bxc3,dxc3,fxe4,Bxe4,Nf6,Bd3,b6,Nf3,Ba6,Be3,Bxd3,cxd3,Nc6,Qe2,Qe7,O-O-O,O-O-O,h3,Kb7,d4,Nd5,Bd2,Rhf8,g3,Nf6,Ne5,Qd6,Rhf1,Qd5,b3,d6,Nd3,Qe4,Rde1,d5', 'Nc5+,bxc5,Qb5+', 'https://lichess.org/training/OxpsF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OXQS7', 'Rapid', 'Brightwell18', 1865, 'zolezoreks', 1843, 'd4,Nf6,Bf4,g6,e3,Bg7,Bd3,O-O,Nf3,d5,Nc3,a6,h3,Nbd7,O-O,c5,a4,Re8,a5,cxd4,exd4,b5,axb6,Qxb6,Qd2,Bb7,Rfe1,e6,Na4,Qc6,b4,Nh5,Bh6,Bh8,Nc5,Nxc5,bxc5,e5,Nxe5,Bxe5,Rxe5,Rxe5,dxe5,Qxc5,Rb1,Qc6,Qb4,Rb8,Bxa6,Qxa6,Qe7,Qc6,e6,fxe6,g4,d4,f3,Qxf3,Qxe6+,Kh8', 'Qe5+,Nf6,Qxb8+', 'https://lichess.org/training/OXQS7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXQYU', 'Rapid', 'kycity', 1892, 'giffell', 1939, 'e4,e6,Nf3,d5,exd5,exd5,Bb5+,c6,Be2,Bf5,d3,Bc5,O-O,Nf6,Nc3,O-O,d4,Bb4,Bd2,Bxc3,bxc3,Qd6,Ne5,Nbd7,f4,Ne4,Bd3,f6,Nxd7,Qxd7,c4,dxc4,Bxc4+,Kh8,c3,b5,Be2,h6,Bf3,g5,Re1,Rae8,fxg5,fxg5,Rc1,c5,Bxe4,Bxe4,Qh5,Kh7,Bxg5,Qg7,h4,cxd4,cxd4,Bg6,Qg4,hxg5,hxg5,Bf5', 'Qh5+,Kg8,Rxe8,Rxe8,Qxe8+', 'https://lichess.org/training/oXQYU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxRkP', 'Blitz', 'drdadou', 1765, 'Direwolf_09', 1794, 'c4,d5,Nf3,c6,cxd5,Qxd5,Nc3,Qa5,e3,Nf6,Be2,Bf5,O-O,e6,d4,Nbd7,Bd2,a6,Ne4,Qc7,Nxf6+,gxf6,Qb3,Bd6,g3,h5,Nh4,Bg4,f3,Bxg3,fxg4,Bxh2+,Kh1,Qg3,Be1,Qh3,e4', 'Bg3+,Kg1,Qh2#', 'https://lichess.org/training/oxRkP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxrXv', 'Blitz', 'Aawlbt', 1881, 'nelgreg', 1858, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,O-O,O-O,c6,a4,b6,Re1,h6,Bb3,c5,Nf5,Bxf5,exf5,a6,Nd5,Nxd5,Bxd5,Ra7,Qg4,Kh7,Ra3,Nd7,Rg3,Bf6,Bxh6,gxh6,Bxf7,Ne5,Rxe5,Bxe5', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/oxrXv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxSE2', 'Rapid', 'caddy', 2037, 'TheChessChaser', 2139, 'e4,c5,g3,Nc6,Bg2,g6,Ne2,Bg7,f4,e6,e5,d5,d4,cxd4,Nxd4,Nge7,O-O,h5,b3,h4,c4,hxg3,hxg3,Nxd4,Qxd4,Nf5,Qd3,Qb6+,Rf2,Bf8,Ba3,Ne3,Bxf8,Kxf8,cxd5,Nxg2,Kxg2,Rh2+,Kxh2,Qxf2+,Kh1,Kg7,Nc3,Bd7,Rf1', 'Rh8#', 'https://lichess.org/training/oxSE2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXSJA', 'Rapid', 'nikraftar5', 1656, 'Amirali1389', 1800, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,c6,Be2,Ne7,O-O,O-O,Re1,Re8,a3,Qc7,h3,Bf5,Bd3,Nd7,Ne2,Bxd3,Qxd3,Ng6,c3,Re7,Bg5,Re6,Ng3,Bxg3,fxg3,Qxg3,Rxe6,fxe6,Re1,Re8,Re2,Nf6,Bxf6,gxf6,Ne1,Qxd3,Nxd3,Nf4,Nxf4,e5,Nh5,Kf7,dxe5,fxe5,Ng3,e4,Nf5,Kg6,Nd4,h5,Kf2,h4,Ke3,Kg5,Rf2,c5,Nc2,Re7,Na1,b6,Nc2,Re5,Rf7,a6,Na1,Re6,Nb3,Kg6,Rf4,Kg5,Nd2', 'd4+,cxd4,cxd4+,Kxd4,Kxf4', 'https://lichess.org/training/oXSJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OXTla', 'Classical', 'basl1', 1831, 'bhirghu', 1980, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Ne4,Qe2,dxc3', 'Qxe4,cxb2,Bxb2', 'https://lichess.org/training/OXTla');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OXue6', 'Rapid', 'Estebanrm94', 2141, 'IM jacosta-777', 2509, 'd4,d5,Nf3,Nf6,Bf4,c5,e3,Nc6,c3,Qb6,Qc1,Bf5,Nbd2,cxd4,Nxd4,Nxd4,exd4,e6,Be2,Be7,O-O,O-O,Nf3,Rac8,Ne5,Rfd8,f3,h6,Kh1,Bd6,Qd2,Qa5,Bd3,Bxd3,Nxd3,Bf8,Rfe1,Ne8,Ne5,Nd6,Qe2,Nc4,Nxf7,Re8,Ne5,b5,Qc2,Qd8,Rab1,b4,Nxc4,Rxc4,Qg6,bxc3,bxc3,Qd7,Re3,Qf7,Qg4,h5,Qg3,Rec8,Rb3,a5,Rb6,Rxc3,Rxc3,Rxc3,Rb8,Kh7,h3,Be7,Be5,h4,Qe1,Rc2,Rb7,Qg6,Qf1,Bf8,a4,Qg5,Rf7', 'Rc1,Qxc1,Qxc1+', 'https://lichess.org/training/OXue6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxUqe', 'Blitz', 'Elinsecto', 2204, 'kvertis', 2385, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,c5,d5,e6,Qd2,exd5,cxd5,Re8,Bd3,h5,Nge2,h4,h3,Nh7,f4,f5,exf5,Bxf5,Bxf5,gxf5,O-O-O,a6,g3,b5,gxh4,Nf6,Ng3,b4,Nxf5,bxc3,Qxc3,Bh8,Rhg1+,Kh7,Rg5,Rxe3,Qxe3,Ra7,Qe6,Qa5,Rdg1,Qb4,Qg8+,Nxg8', 'Rh5+,Nh6,Rxh6#', 'https://lichess.org/training/oxUqe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OXV47', 'Blitz', 'FM harunov', 2341, 'RXMEN', 2304, 'd4,Nf6,Nf3,e6,g3,b6,Bg2,Bb7,O-O,Be7,c4,O-O,Nc3,c5,d5,exd5,cxd5,d6,e4,Re8,Nh4,Bf8,Nf5,g6,Nh6+,Kg7,f4,Nbd7,f5,Qe7,g4,Kh8,fxg6,fxg6,g5,Nh5,Rf7,Qd8,Bh3,Bc8,Rxd7,Bxd7,Nf7+,Kg8,Nxd8,Bxh3,Nc6,Bg7,Qf3,Bd7,Be3,Rf8,Ne7+,Kh8,Nf5,Bxf5,exf5,Rxf5,Qh3,Raf8,Rd1,Be5,Re1,Rf3,Qg4,Ng7,Kg2,R3f7,Ne4,Nf5,Nf6,Bxf6,gxf6,Rxf6,Bg5,R6f7,Re6,Nd4,Qg3,Nf5,Qc3+,Kg8,h4,Nd4,Qg3,Nf5,Qf4,b5,Rxd6,Nxd6,Qxd6,Kg7,Kg3,Rf3+,Kg4', 'h5#', 'https://lichess.org/training/OXV47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oxvzC', 'Rapid', 'petrovgrad', 2032, 'Bojan_Rankovic92', 1945, 'e4,e5,Nf3,Nc6,Nc3,Bb4,d4,exd4,Nxd4,Nxd4,Qxd4,Bf8,Bg5,Nf6,O-O-O,Be7,Bd3,d6,f3,O-O,g4,Be6,h4,h6,Be3,c5,Qa4,a6,g5,b5,Nxb5,axb5,Qxb5,Nh5,gxh6,g6,f4,Rxa2,f5,gxf5,exf5,Bd7,Qc4,Ra1+,Kd2,Rxd1+,Kxd1,Bf6,Qg4+,Kh7,Qxh5,Rg8,Qxf7+,Kh8,h7,Rg7,Qd5,Qa5,Ke2,Qb6,Bg5,Bxg5,hxg5,Bc6,Qxd6', 'Bf3+,Kxf3,Qxd6', 'https://lichess.org/training/oxvzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXw5O', 'Rapid', 'Gottmaschine', 1736, 'burak14ercan14', 1781, 'e4,e5,Nf3,g6,Nxe5,Bg7,Nf3,b6,d4,Bb7,Nc3,d6,Bc4,Nf6,Nd2,O-O,O-O,a6,Re1,Nbd7,e5,dxe5,dxe5,Nh5,e6,Qg5,Nf3,Qc5,exf7+,Kh8,Qxd7,Qxc4,Re8,Qxf7,Qxf7,Raxe8,Qxc7,Bxf3,gxf3,Re1+,Kg2,Nf4+,Kg3', 'Rg1+,Kh4,g5#', 'https://lichess.org/training/oXw5O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXWGm', 'Classical', 'cant_stop', 1705, 'Zlat2806', 1849, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,Nf3,h6,Bh4,O-O,e3,b6,Bd3,dxc4,Bxc4,c5,O-O,Bb7,dxc5,Qc7,Nb5,Qc8,Bg3,Ne4,Bf4,Nxc5,Nc7,g5,Bg3,Nba6,Nb5,Rd8,Qe2,Nd7,Rac1,Nf6,Nfd4,Qd7,Rfd1,Rac8,Nxe6,Rxc4,Rxd7', 'Rxc1+,Qf1,Rxf1+', 'https://lichess.org/training/oXWGm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXwo6', 'Rapid', 'petcha99', 1765, 'Paoloman', 1767, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,d6,Ne2,O-O,a3,Bxc3+,Nxc3,b6,Bd3,Bb7,O-O,Nc6,d5,exd5,cxd5,Ne7,Bc4,a6,e4,b5,Ba2,c6,dxc6,Bxc6,f3,Ng6,Nd5,Nxd5,Bxd5,Bxd5,Qxd5,Rc8,Be3,Rc2,b3,Nh4,Bf2,Kh8,Bxh4,Qxh4,Qxd6,Rg8,Qxa6,Qg5,Rf2,Rxf2,Kxf2,Qd2+,Kg3,Qg5+,Kf2,Qd2+,Kf1', 'Qd3+,Kf2,Qd4+', 'https://lichess.org/training/oXwo6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oXzQP', 'Rapid', 'Zhaxylyk_Baymahan', 1668, 'tuxpita', 1678, 'e4,e5,Nc3,Nf6,Nf3,d6,Bb5+,c6,Bc4,Be7,Ng5,O-O,O-O,d5,exd5,cxd5,Bd3,e4,Bb5,Bg4,Be2,Bxe2,Qxe2,h6,Nh3,a6,d3,Bb4,d4,Bxc3,bxc3,Qd7,Qe3,Ng4,Qg3,f5,Bf4,g5,Nxg5,hxg5,Bxg5,Qg7,Bf4,Kf7,Rab1,b5,a4,Rh8,h3,Nf6,Qe3,Nbd7,axb5,axb5,Rxb5,Ra2,Rb7,Rxc2,Be5,Rd8,Rc1,Rxc1+,Qxc1,Rg8', 'Rxd7+,Nxd7,Bxg7', 'https://lichess.org/training/oXzQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oy1ZU', 'Rapid', 'Franky980', 2071, 'karlin99', 2197, 'e4,c5,c3,Nf6,e5,Nd5,Nf3,Nc6,Bc4,Nb6,Bb3,e6,O-O,d6,d4,cxd4,cxd4,dxe5,dxe5,Qxd1,Rxd1,Be7,Be3,Nd7,Ba4,O-O,Bxc6,bxc6,Nc3,f6,exf6,Nxf6,Ne5,Bb7,Nd7,Rfd8,Nxf6+,Bxf6,Rxd8+,Rxd8,Rd1,Rxd1+,Nxd1,a5,Bb6,a4,Nc3', 'a3,bxa3,Bxc3', 'https://lichess.org/training/Oy1ZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oY29r', 'Rapid', 'Damscientist', 2127, 'greggz451', 1918, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Bc4,Bg4,f3,Bf5,Nc3,a6,a4,Nbd7,a5,g6,d4,h5,Nge2,Bg7,Bf4,O-O,Ng3,e6,Nxf5,exf5,O-O,Re8,Re1,b5,axb6,Nxb6,Bxa6,Nfxd5,Rxe8+,Qxe8,Bg5,f6,Nxd5,Nxd5,Bc4,fxg5,Bxd5+,Kh7,Rxa8,Qe3+,Kf1,Bxd4,Qe2', 'Qg1#', 'https://lichess.org/training/oY29r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oY3kQ', 'Rapid', 'Reky1521', 1696, 'Big_Cliff', 1705, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Bg5,Nbd7,h4,Nh5,Be2,f6,Be3,e5,d5,f5,exf5,Rxf5,g4,Rxf3,Bxf3,Nf4,Qc2,Nb6,O-O-O,Nxc4,Bxf4,exf4,g5,Bf5,Be4,Bxc3,Bxf5', 'Bxb2+,Kb1,Na3+,Kxb2,Nxc2', 'https://lichess.org/training/oY3kQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oybG6', 'Rapid', 'Gravitation', 1953, 'Abs001Presh', 1959, 'e4,h6,d4,d6,Nf3,Nc6,Nc3,e6,Bc4,Nce7,O-O,Ng6,b3,c6,Bb2,d5,exd5,cxd5,Bb5+,Bd7,Re1,Bb4,Re2,Bxb5,Nxb5,a6,c3,Be7,Na3,Nf6,g3,O-O,Nc2,Ne4,Nd2,Nd6,c4,Nf5,Nf3,Rc8,Qd3,Nd6,Nd2,Bg5,f4,Bxf4,gxf4,Nxf4,Qf3,Nxe2+,Qxe2,dxc4,bxc4,Nf5,Qg4,Qb6,Rb1,Qd8,c5,Qd5,Nf1,Qxa2,Na3,Qd5,Ng3,Nxg3,Qxg3,Qg5,Qxg5,hxg5,Kf2,Kh7,Rg1,Kg6,h4,f6,Kg3,Rh8,hxg5,fxg5,Nc4,Rh5,Nd6,Rch8,Kf3,Rh3+,Ke4,R3h4+,Ke5,R4h5,Bc1,g4+,Kxe6,Kh7,Rxg4,Rh6+,Kd7,Rg6,Rh4+,Kg8,Rxh8+,Kxh8,Nf7+,Kg8,Ne5,Rf6,Bg5,Rf8,Be7,Ra8,Nc4,a5,Nb6,Ra7,Na4,Kf7,Bd6', 'b5+,Kc6,bxa4', 'https://lichess.org/training/oybG6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oycVw', 'Rapid', 'Alejoprooo', 1895, 'Kalet_08', 1837, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Bd3,dxc4,Bxc4,b5,Bb3,Bb7,a4,a6,axb5,cxb5,Nf3,Nbd7,O-O,Bd6,d5,exd5,Nxd5,O-O,Nxf6+,Nxf6,Bd2,Ne4,Ba5,Qf6,Qd4,Qh6,Bd5,Ng5,h3,Nxf3+,Bxf3,Bxf3,gxf3,Qxh3,Qxd6,Rfe8,Qf4', 'Re6,Bc7,Rg6+', 'https://lichess.org/training/oycVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYDOq', 'Classical', 'nvb_hn', 1885, 'art2011', 1898, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bd6,d4,O-O,Bg5,exd4,Nxd4,Ne5,Bb3,h6,Bh4,Ng6,Bg3,Bb4,O-O,Bxc3,bxc3,Nxe4,Qd3,Nxg3,Qxg3,c6,Nf5,Kh7,Nd6,Qe7,Rfe1,Qf6,Re3,Nf4,Rd1,b6,Bc4,b5,Bd3+,Nxd3,Rexd3,Ba6,Qh3,Qe6,Nf5,Rae8,Re3,Qxa2,Nxh6,gxh6,Qf5+,Kh8,Qf6+,Kh7,Rh3,Re6', 'Rxh6+,Kg8,Rh8#', 'https://lichess.org/training/OYDOq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oyfnM', 'Rapid', 'Adoro_Xadrez', 1937, 'BlackArt', 1896, 'e4,e5,Nf3,d6,d4,f5,exf5,e4,Nfd2,Bxf5,Be2,d5,Bg4,Qd7,Bxf5,Qxf5,O-O,Bd6,c4,c6,cxd5,cxd5,Qa4+,Nc6,Qb5,O-O-O,Nc3,Nge7,Nb3,g5,Be3,h5,Na5,Rd7,Nxc6,Nxc6,Qxd5', 'Bxh2+,Kxh2,Rxd5', 'https://lichess.org/training/oyfnM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OyGhc', 'Blitz', 'ItaloGarcia', 1529, 'Shaydakov', 1577, 'e4,c5,Nf3,d6,Bc4,Nf6,d4,cxd4,Nxd4,Nxe4,Qf3,Nf6,Nc3,g6,g4,Bxg4,Qxb7,Nbd7,Bb5,Bg7,Bxd7+,Nxd7,Nc6,Qc8,Qxc8+,Rxc8,Nxa7,Rc5,Be3,Ra5,Nc6,Ra8,O-O,O-O,Nxe7+,Kh8,Ned5,Ne5,f3,Nxf3+,Rxf3,Bxf3,Rf1,Bg4,Rf2,Bxc3,Nxc3,Rad8,Bd4+,Kg8,Rf4,Bf5,Bf6,Rb8,Be7,Rfe8,Bxd6,Rxb2,Nd5,Re1+,Kf2,Rh1,Nf6+,Kg7,Ne8+,Kg8,Nf6+,Kg7,Ne8+,Kh6', 'Rh4+,Kg5,Be7+,f6,Bxf6#', 'https://lichess.org/training/OyGhc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYhR8', 'Rapid', 'Rajesh_sutharr', 1605, 'CATUR_KAMPUNG', 1728, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Nc3,Bb4,d3,Bxc3+,bxc3,d5,exd5,Nxd5,Bd2,Bg4,h3,Bh5,O-O,Qf6,Bxd5,O-O-O,Bxc6,bxc6,Qe2,Rhe8,Qe3,e4,dxe4,Rxd2,Qxd2,Bxf3,gxf3,Qxf3,Rfb1,Rxe4,Qg5,Qxh3,f3,Qxf3,Rb8+,Kxb8,Qd8+,Kb7,Rb1+,Ka6,Qc8+,Ka5,Qxc7+,Ka4,Qxc6+,Ka3,Rb3+,Kxa2', 'Qa6+,Ra4,Qxa4#', 'https://lichess.org/training/OYhR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OyI3u', 'Classical', 'yurilandin', 1879, 'koureas25', 1944, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nc3,Bg4,Be2,Bf5,Nf3,e6,a3,Bc5,O-O,O-O,h3,Rc8,Nh4,Bd3,Bxd3,Qxd3,Qe2,Rfd8,Nf3,Nh5,b4,Be7,Re1,Nf4,Qe3,Qxc4,Bb2,Nd3,Reb1,Bf6,b5,Na5,a4,Nb3,Ra2,Nf4,Ne4,Ne2+,Kh1,Bxb2,Raxb2,Nbc1,Ne5,Qd4,Nf3,Qxa4,d4,Rxd4,Nxd4', 'Qd1+,Kh2,Qg1#', 'https://lichess.org/training/OyI3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYiGr', 'Rapid', 'yy_maths', 1609, 'elyugi', 1601, 'c4,e5,Nc3,Nf6,g3,Bc5,Bg2,O-O,d3,Nc6,Nf3,d6,O-O,h6,a3,Bf5,b4,Bd4,Bb2,a6,Nxd4,Nxd4,Nd5,Nxd5,Bxd5,Bg4,Qd2,Nxe2+,Kh1,c6,Bg2,f5', 'f3,Nxg3+,hxg3', 'https://lichess.org/training/OYiGr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYK6A', 'Rapid', 'SanyaK', 1767, 'foarstreaming', 1777, 'd4,Nf6,Nf3,e6,e3,d5,c4,b6,Nc3,Bb7,Be2,Bd6,O-O,O-O,h3,Nbd7,a3,a6,b4,c5,dxc5,bxc5,bxc5,Nxc5,cxd5,Nxd5,Bb2,Nxc3,Bxc3,Ne4,Bb2,Rc8,Qd4,Nf6,g4,Bxf3,Bxf3,e5,Qd3,Re8,Qxa6,e4,Bg2,Re6,Bxf6,Rxf6,Rad1,Bh2+,Kxh2', 'Qc7+,Kg1,Rxa6', 'https://lichess.org/training/OYK6A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oykAa', 'Rapid', 'online40403030', 2138, 'Parokya_ni_NathyBoi', 2089, 'Nf3,d6,e4,Nf6,Nc3,g6,d4,Bg7,Bg5,O-O,Qe2,Nc6,O-O-O,Bg4,h3,Bxf3,gxf3,a6,e5,Ne8,exd6,Nxd6,d5,h6,dxc6,hxg5,Ne4,bxc6,Nxg5,e6,h4,Qf6,c3,Rab8,Rg1,Rb5,Qc2,Ra5,Kb1,Rb8,Ne4,Nxe4,fxe4,Qxc3', 'Rd8+,Rxd8,bxc3', 'https://lichess.org/training/oykAa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYKL5', 'Rapid', 'mwl', 1669, 'mino1955', 1783, 'c4,d6,d4,Nc6,e3,e5,Qe2,exd4,exd4+,Qe7,Be3,Nf6,a3,Bg4,Qd3,O-O-O,Ne2,g6,b4,Bf5,Qb3,Kb8,b5,Na5,Qa4,b6,Nbc3,Bd3,h3,Bxc4,Na2,d5,Nb4,Ne4,Qxa5,bxa5,Nc6+,Kb7,Nxe7,Bxe7,a4,Bb4+,Kd1,Bb3+,Kc1,f5,f3,Nc3,Nxc3,Bxc3,Ra3,Rde8,Rxb3,Rxe3,Kc2,Bxd4,Rxe3,Bxe3,Bd3,f4,Rd1,d4,Be4+,Kb6,Kd3,g5,Rb1,h6,Rb2,h5,Rc2,h4', 'Rc6+,Kb7,Rh6+', 'https://lichess.org/training/OYKL5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYl8H', 'Rapid', 'marx17', 1654, 'Consume_the_Soup', 1628, 'c4,e6,g3,d5,cxd5,exd5,Bg2,Nf6,d4,Nc6,Nc3,Bb4,e3,Bg4,Ne2,O-O,O-O,g6,h3,Bxe2,Nxe2,Ne4,Bxe4,dxe4,a3,Bd6,Bd2,Qg5,Kg2,Ne7,Qb3,Nf5,Rad1,Rad8,Bc1,Rfe8,Qxb7,Re7,Qxa7,c6,Qa5,Red7,b4,Rb8,Qa4,h5,Qxc6,Rc7,Qxe4,Re7,Qf3', 'Nh4+,Kh1,Nxf3', 'https://lichess.org/training/OYl8H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OylAW', 'Blitz', 'yanekk', 1688, 'srblnt', 1667, 'd4,d5,c4,dxc4,Nc3,e6,Bf4,Bb4,Nf3,b5,e3,a6,Be2,Nf6,O-O,O-O,Qc2,Bb7,a3,Bxc3,bxc3,Be4,Qb2,Nc6,a4,Nd5,axb5,axb5,Rxa8,Qxa8,Rc1,f6,Qxb5,Rb8,Qc5,Rb1,Rxb1,Bxb1,Bxc4,Qa1,Qxc6', 'Bd3+,Ne1,Qxe1#', 'https://lichess.org/training/OylAW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oyMQP', 'Rapid', 'Number31415', 1805, 'omicheldele', 1852, 'd4,f5,Bf4,Nf6,e3,b6,Nf3,Bb7,Bd3,e6,Ne5,Nc6,Nc3,Bb4,Qd2,Qe7,a3,Bd6,f3,Nxe5', 'dxe5,Bxe5,Bxe5', 'https://lichess.org/training/oyMQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OyMx8', 'Rapid', 'Alexshab', 1617, 'karpufff3', 1602, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,d6,Nc3,Nf6,Bc4,Be7,h3,O-O,O-O,a6,f4,Be6,Bxe6,fxe6,e5,Ne8,Be3,d5,Ne2,d4,Bf2,Nc7,c4,dxc3,Nxc3,Qxd1,Raxd1,Nd5,Nxd5,exd5,Rxd5,Rad8,Rxd8,Rxd8,Be3,c4,Kf2,Rd3,e6,Bf6,g4,b5,f5,Kf8,Bc5+,Be7,Bxe7+,Kxe7,Kg2,b4,Rf2,a5,g5,c3,bxc3,bxc3,Kf1', 'Rd1+,Kg2,Rd2', 'https://lichess.org/training/OyMx8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oyMxV', 'Rapid', 'imantazkir', 1837, 'rahimgolchin', 1720, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nb5,d6,N1c3,Be7,Bc4,a6,Nd4,Nf6,O-O,O-O,Nxc6,bxc6,a3,Rb8,Qe2,Qb6,Rb1,Bb7,Be3,c5,Bg5,h6,Bxf6,Bxf6,Na4,Qc6,Nc3,Bd4,Kh1,Bc8,f3,f5,exf5,Rxf5,Bxe6+,Bxe6,Qxe6+,Rf7,Nd5', 'Re8,Qg6,Qxd5', 'https://lichess.org/training/oyMxV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OyNCf', 'Rapid', 'regato', 1777, 'Petr42', 1668, 'd4,d5,c4,dxc4,e3,g6,Bxc4,Nf6,Nc3,Bg7,Bd2,O-O,Rc1,c6,a3,Nbd7,Nge2,Nb6,Ba2,Nfd5,Na4,Be6,Nc5,Nxe3,Nxe6,Nxd1,Nxd8,Raxd8,Rxd1,Bxd4,Nxd4,Rxd4,Bc3,Rxd1+,Kxd1,Rd8+,Kc2,e6,Bf6,Rd7,Rd1,Rxd1,Kxd1,Nd5,Bxd5,cxd5,Kd2,Kf8,Kc3,Ke8,Kb4,Kd7,Kc5,Kc7,Be5+,Kd7,b4,Ke7,Bb8,b6+,Kc6,d4,Bf4,f6,Kb7,e5,Bd2,Kd6,Kxa7,Kc6,a4,f5,a5,bxa5,bxa5,h6,a6,Kc7,Ba5+,Kc8,Kb6,Kb8,a7+,Ka8,Ka6,e4,g3,e3,fxe3,dxe3,Be1,g5,Kb6', 'f4,gxf4,gxf4,Kc5,f3', 'https://lichess.org/training/OyNCf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oyoFC', 'Rapid', 'PavelSalm', 2001, 'KENET1', 1990, 'e4,c5,Bc4,d6,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,b4,Nxb4,e5,dxe5', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/oyoFC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OypmT', 'Rapid', 'islandboyjim', 1664, 'Trier65', 1656, 'e4,e5,Nf3,Nf6,Bc4,Bc5,Nxe5,d5,exd5,Nxd5,Qe2,O-O,O-O,Re8,Bxd5', 'Qxd5,Nc3,Qxe5,Qxe5,Rxe5,d4,Bxd4', 'https://lichess.org/training/OypmT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYqdC', 'Rapid', 'nubsilly', 1557, 'Saweeet', 1606, 'd4,e6,g3,d5,Nf3,c5,Bg2,Nc6,e3,cxd4,exd4,Nf6,Ne5,Qb6,c3,Be7,O-O,h6,b4,Nxe5,dxe5,Ne4,Be3,Qc7,f3,Nxc3,Nxc3,Qxc3,Bd2,Qxe5,Qc2,Qd4+,Kh1,Bxb4', 'Qa4+,Bd7,Qxb4,Qxb4,Bxb4', 'https://lichess.org/training/OYqdC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYrK9', 'Rapid', 'sdiners', 1777, 'ThunderEmperess', 1767, 'd4,d5,Bf4,f6,e3,Nc6,Nf3,Bg4,Be2,e5,dxe5,d4,Nxd4,Bxe2,Nxc6,Bxd1,Nxd8,Rxd8,exf6,Nxf6,Bxc7,Rd7,Be5,Be7,Nc3,O-O,Rxd1,Rxd1+,Nxd1,Ng4,Bg3,h5,O-O,h4,f3,hxg3,hxg3,Ne5,Nc3,Nc4,Nd5,Bc5,b4,Bxe3+,Nxe3,Nxe3,Rf2,g5,Re2,Nd5,Re5,Nxb4,Rxg5+,Kh7,Rh5+,Kg6,Rb5,Nxc2,Rxb7,Ra8,Rc7,Nd4,Kf2,a5,Ke3,Nf5+,Kf4,Rf8,Rc6+,Kh5', 'g4+,Kh4,gxf5', 'https://lichess.org/training/OYrK9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OyRpV', 'Rapid', 'Hattab0795', 1744, 'akermu', 1798, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,h6,Na4,Be7,Nc3,a6,Be3,d6,h3,Na5,Nd5,Nxc4,dxc4,Be6,Qd3,Qd7,Nxf6+,Bxf6,O-O,g5,Rad1,g4,hxg4,Bxg4,Rd2,h5,Nh2,Be6,f4,exf4,Rxf4,Be5,Rf3,Bg4,Nxg4,hxg4,Rf5,Bh2+,Kf1,Bg3,c5', 'Rh1+,Bg1,Bh2', 'https://lichess.org/training/OyRpV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oYSAq', 'Rapid', 'zashem', 1801, 'Slon82', 1707, 'd4,Nf6,Bf4,d5,e3,Bf5,Nf3,Nbd7,Nbd2,Nh5,Bg5,h6,Bh4,g5,Bg3,Nxg3,hxg3,Bg4,Be2,Bg7,c3,e5,dxe5,Nxe5,Qb3,Nxf3+,Bxf3,Bxf3,Nxf3,O-O,O-O-O,Rb8,Rxd5,Qe7,Rhd1,Qe4,Rd7,Qc6,R7d5,b5,Nd4,Bxd4,R1xd4,a5,f4,b4,c4,f6,c5,Kg7,Rd7+,Kh8,Qc2,f5,fxg5,Rb5,R7d5,hxg5,g4,Kg7,gxf5,Kf6,e4,Rd8,Qe2,Rxc5+,Rxc5,Qxc5+,Rc4,Qe5,Qh5,Qf4+,Kc2,Rd2+,Kb3,Qe3+,Ka4,Rxb2,Qg6+,Ke5,Qe6+,Kf4,g3+,Kxg3', 'Qe5+,Kg4,Qxb2', 'https://lichess.org/training/oYSAq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OyvFt', 'Classical', 'CLSmith15', 1856, 'Omniverse', 1752, 'd4,g6,c4,Bg7,Nc3,b6,e4,Bb7,Nf3,Nf6,Be2,O-O,O-O,Nxe4,Nxe4,Bxe4,b3,Nc6,Be3,d5,cxd5,Qxd5,Bc4,Qf5,Rc1,Nb4,Nh4,Qf6,Qg4,Bb7,Bg5,Qd6,Rfe1,Rae8,a3,Nc6,Bf4,e5,dxe5,Nxe5,Bxe5,Rxe5,Rxe5,Qxe5,Nf3,Qd6,Ng5,Qxa3,Rd1,Qe7,h3,h6,Bxf7+,Rxf7,Nxf7,Qxf7,Rd8+,Kh7,Rd7,Qxb3,Qd4,Qg8,Rxc7,a5,Rxb7,h5,Qd2,a4,Rxb6,a3,Ra6,Qb3,Ra7', 'Qb1+,Kh2,Qb8+,g3,Qxa7', 'https://lichess.org/training/OyvFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYVRe', 'Blitz', 'younes_abadeh', 2038, 'FM talk2uee', 2135, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nc6,Nf3,Bg4,Bd2,O-O-O,d5,Nb4,Bc4,Nf6,h3,Bf5,Nd4,Bg6,a3,Qc5,axb4,Qxc4,Be3,Nxd5,Nxd5,Rxd5,Rxa7,e5,Qg4+,f5,Nxf5,Bxb4+,c3,Bxc3+,bxc3,Qxc3+,Ke2,Qc2+,Kf3,Bxf5,Ra8+,Kd7,Qxg7+,Kc6,Qf6+,Rd6,Qxh8,Qe4+,Kg3', 'Rg6+,Kh2,Rxg2#', 'https://lichess.org/training/OYVRe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYWLu', 'Rapid', 'fathalaliem', 1727, 'sagunar', 1753, 'e4,e5,Nf3,f5,Nc3,Nf6,d4,exd4,Qxd4,fxe4,Nxe4,Be7,Bc4,d5,Nxf6+,Bxf6,Qe3+,Be7,Bb5+,c6,Ba4,O-O,O-O,Bg4,Ne5,Bh5,g4,Be8,c3,Nd7,Bc2,Nxe5,Qxe5,Bd6,Qe2,Qh4', 'Qe6+,Bf7,Qxd6,Qxg4+,Qg3', 'https://lichess.org/training/OYWLu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYXPn', 'Bullet', 'moronic', 1979, 'Barako175', 1967, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Nbd7,cxd5,exd5,Bg5,c6,e3,Bd6,Bd3,O-O,O-O,h6,Bf4,Re8,Bxd6,Ne4,Bg3,Ndf6,Ne5,Bf5,f3,Nxg3,hxg3,Be6,Qd2,Nd7,Nxd7,Qxd7,Rac1,Qd6,Qf2,a6,a3,b5,b4,a5,Qb2,axb4,Qxb4,Qxg3,Ne2,Qg5,Nf4,Bd7,Rfe1,Qf6,Bf1,g5,Nd3,Ra4,Qc5,Rea8,Ne5,Be8,Nxc6,Rxa3,Ne7+,Kg7,Nxd5,Qg6,Bxb5,Bxb5,Qxb5,Ra2,Nc3,Rc2,Qe5+,Kg8,Ne4,Qc6,Nf6+,Kf8,Rxc2,Qxc2,Nd7+,Kg8,Qe4,Qa2,Ne5,Rb8,Qf5,Rb2,Qxf7+,Qxf7,Nxf7,Kxf7,e4,Ke6,d5+,Ke5,Kf1,h5,Re2,Rb1+,Kf2,h4,g3,h3,Re1', 'Rxe1,Kxe1,h2', 'https://lichess.org/training/OYXPn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oyXXT', 'Blitz', 'FM magolosof', 2334, 'Sadiel85', 2245, 'c4,Nf6,g3,d6,Bg2,Nbd7,Nc3,c6,e4,e5,Nge2,Be7,O-O,O-O,d3,Qc7,f4,a5,f5,Nb6,g4,h6,Bf3,d5,h4,dxc4,dxc4,Nh7,Qe1,Nxc4,Qg3,Qd8,g5,hxg5,h5,b5,b3,Nd2,Rf2,Bc5,Kg2,Bxf2,Kxf2,Nxf3,Qxf3,Ba6,Be3,b4,Na4,Qd3,Ng3,Rad8,Nc5,Bb5,Nxd3,Rxd3,Rd1,Rfd8,Rxd3,Rxd3,Nf1,Nf6,Qg2,Rc3,Bxg5,Rc2+,Nd2,Bd3,Ke3,Bxe4,Qg3', 'Rc3+,Kf2,Rxg3', 'https://lichess.org/training/oyXXT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OYXXV', 'Rapid', 'kemp_40', 1652, 'plasmaLunatic', 1643, 'd4,Nf6,Bf4,g6,e3,Bg7,c3,O-O,Nf3,d6,Bd3,Nc6,Qe2,e5,dxe5,dxe5,Bg5,Ne7,O-O,Bg4,Rd1,Qe8,Bxf6,Bxf6,Be4,Bf5,Bxb7,Rb8,e4,Bg4,Ba6,Rb6,Bc4,Nc6,b4,a6,a4,a5,b5,Ne7,Ba2,c6,c4,cxb5,cxb5,Qc8,Bc4,Rd8,Nbd2,Rb7,Rac1,Rc7,Nb3', 'Rxd1+,Qxd1,Rxc4,Rxc4,Qxc4', 'https://lichess.org/training/OYXXV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OyyBE', 'Blitz', 'vikan123', 1767, 'dimava', 1751, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,e5,Nfd7,Nf3,c5,dxc5,dxe5,f5,Nxc5,fxg6,fxg6,Be3,Qc7,Qd5+,e6,Qxc5,Qxc5,Bxc5,b6,Bxf8,Bxf8,Nxe5,Bg7,Nf3,Nc6,Be2,Nb4,O-O,Nc2,Rac1,Ne3,Rfe1,Bb7,Kf2,Ng4+,Kg3,h5,h3,Ne3,Kf2,Nf5,Ng5', 'Bd4+,Kf1,Ng3#', 'https://lichess.org/training/OyyBE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oYyPG', 'Rapid', 'WildEvilCat', 1843, 'tremoleke', 1767, 'd4,d5,c4,Bf5,Nc3,c6,Nf3,Nf6,e3,Nbd7,Be2,e6,O-O,Bd6,c5,Bb8,b4,b5,cxb6,axb6,b5,c5,dxc5,Nxc5,a4,Bc7,Ba3,O-O,Nd4,Bg6,Nc6,Qd6,g3,e5,Bf3,e4,Bg2,Rfd8,Nxd8,Qxd8,Bxc5,bxc5,Qb3,Ra5,Rfd1,d4,exd4,cxd4,Qb4,d3,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,d2,Qb4,Qf6,Ra2,Bb6,Raxd2,g6,Rd6', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/oYyPG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oYySY', 'Blitz', 'tourist97', 2002, 'Retisska', 1878, 'e4,e5,f4,exf4,Nf3,d5,e5,Bc5,d4,Bb4+,c3,Be7,Bxf4,c5,Nbd2,c4,b3,b5,a4,b4,bxc4,g5,Be3,bxc3,Nb3,g4,Ng1,dxc4,Bxc4,Bb4,Qc2,Ne7,Bd3,Nd5,Bf2,h5,Ne2,Nc6,O-O,Be6,Bb5,Qc8,Rac1,h4,Nc5,Bxc5,dxc5,a6,Bxc6+,Qxc6,Nxc3,Nxc3,Qxc3,g3,hxg3,h3,Qf3,Bd5,Qf6', 'h2+,Kh1,Bxg2#', 'https://lichess.org/training/oYySY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oYZvS', 'Blitz', 'jefe5000', 2075, 'YCactus', 1962, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qd1,Nf6,Nc3,h6,Bc4,O-O,Be3,d6,f3,b5,Nd5,Nxd5,Bxd5,Bb7,Qd2,Rac8,O-O-O,Rfd8,g4,Kf8,g5,h5,f4,f6,f5,Qd7,Bb6,Re8,Qe2,Ne7,Qxh5,Nxd5', 'Qh8+,Kf7,g6+,Ke7,Qxg7#', 'https://lichess.org/training/oYZvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Oz0M0', 'Rapid', 'AndreiCAN', 1648, 'mohitchess', 1643, 'c4,e5,Nc3,Nf6,e4,Nc6,Nf3,Bc5,h3,d6,Be2,Be6,d3,O-O,Bg5,Na5,Qd2,c6,g4,d5,exd5,cxd5,cxd5,Bxd5,Nxd5,Qxd5,Bxf6,gxf6,Qxa5', 'Bxf2+,Kxf2,Qxa5', 'https://lichess.org/training/Oz0M0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oZ68D', 'Rapid', 'Olemasai', 1765, 'lucasgomesevaristo', 1861, 'e4,c5,Nc3,g6,Nf3,Nc6,Bb5,Bg7,Bxc6,bxc6,O-O,d5,e5,d4,Ne4,Qb6,d3,Bg4,b3,Bxe5,h3,Bxf3,Qxf3,Nf6,Bh6,Nxe4,Qxe4,Qc7,f4,f5', 'Qxe5,Qxe5,fxe5', 'https://lichess.org/training/oZ68D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oZ6UT', 'Rapid', 'seguritochupamaso', 1942, 'riefky212', 2011, 'e4,e5,Nf3,d5,exd5,e4,Bb5+,c6,dxc6,bxc6,Bc4,exf3,Qxf3,Nf6,O-O,Be7,d3,O-O,Nc3,Bb7,Qg3,Kh8,Ne4,Nbd7,Nd6,Bxd6,Qxd6,Qb6,Be3,Qa5,Bd4,Rad8,b4,Qf5,Qc7,Ba8,Qxa7,Qg6,f3,Rde8,Qc7,Re2,Qg3,Qxg3,hxg3,Rxc2,Rfe1,Nh5,Kh2,c5,bxc5,Bxf3,Rg1,Ndf6,Bxf6,Nxf6,Kh1,Bc6,Rac1,Rb2,d4,Nd5,Bb3,Re8,Rc2,Rxc2,Bxc2,Ne3,Bb3,Nd5,Rf1,f6,Rf2,Re1+,Kh2,h5,a4,Ra1,Ra2,Rxa2,Bxa2,Nb4,Bb3,Bd5,Bxd5,Nxd5,a5,Kg8', 'a6,Kf7,a7,Nc7,d5', 'https://lichess.org/training/oZ6UT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OZ9kE', 'Rapid', 'yyo', 1672, 'YAVUZ_KOMUTAN', 1695, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bc4,Ne7,Qh5,d5,exd5,cxd5,Bg5,dxc4,O-O,O-O,Nc3,f6,Bxf6,Bxf2+,Rxf2,Rxf6,Rxf6,gxf6,Ne4,Qd4+,Nf2,Qxb2', 'Qe8+,Kg7,Qxe7+', 'https://lichess.org/training/OZ9kE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ozA23', 'Classical', 'ucsm', 1760, 'Bruschlwummsi', 1789, 'd4,d5,c3,Nf6,e3,c5,Nf3,Bg4,Be2,Bxf3,Bxf3,e6,Nd2,cxd4,exd4,Bd6,O-O,O-O,Re1,Nbd7,Qc2,Qc7,h3,e5,dxe5,Nxe5,Qf5,Rfe8,Nb3,Nxf3+,Qxf3', 'Rxe1#', 'https://lichess.org/training/ozA23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ozdyg', 'Rapid', 'Budetlyanin1982', 1773, 'isometimesplaythis', 1746, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,a6,Ba4,Nf6,Nc3,b5,Bb3,Na5,d3,Be7,O-O,O-O,Nh2,Nxb3,axb3,Bb7,f4,Re8,f5,d5,Ng4,Nxg4,Qxg4,dxe4,dxe4,b4,Ne2,Qd6,Ng3,Qc6,Nh5,g6,fxg6,fxg6,Bh6,Qxe4', 'Qe6+,Kh8,Bg7#', 'https://lichess.org/training/Ozdyg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OzeOs', 'Rapid', 'jebisesome', 1870, 'slavico', 1949, 'd4,Nf6,e3,g6,f4,d6,Ne2,Bg7,Ng3,b6,Bd3,Bb7,O-O,O-O,Nd2,Nbd7,Nf3,c5,c3,Re8,e4,cxd4,cxd4,e5,fxe5,dxe5,d5,Nc5,Bc2,Qd6,Bg5,Ba6,Rf2,Ng4,Rd2,f6,Bh4,Bh6,h3,Be3+,Kh1,Nf2+,Rxf2,Bxf2,Kh2,g5', 'Nf5,Qf8,Bxf2', 'https://lichess.org/training/OzeOs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ozevr', 'Blitz', 'shampainnn', 1901, 'M_AMIN_BAKHSHI', 1841, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bg5,Be7,Bc4,O-O,Bb3,Nc6,Qd2,h6,Bxf6,Bxf6,Nxc6,bxc6,O-O-O,d5,exd5,cxd5,f4,Ba6,Rhe1,Rc8,Ne2,Qb6,Kb1,Rfd8,g4,Be7,Nd4,Bb4,c3,Bc5,g5,Bxd4,cxd4,h5,g6,f6,Qe3,Qc6,Qf3,h4,Qh5,Kf8,Qh8+,Ke7,Qxg7+,Kd6,Qxf6,Re8,f5,Kd7,fxe6+,Rxe6,Qf7+,Kd8,Rxe6', 'Bd3+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/ozevr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OzeY0', 'Rapid', 'Miras16', 1557, 'Spativarvaros', 1683, 'e4,c6,c4,e6,Nc3,d5,cxd5,cxd5,Nf3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,d4,Nc6,Bb5,Bd7,O-O,a6,Bg5,Qf5,Ba4,Bd6,d5,exd5,Re1+,Be6,Nd4,Qxg5,Nxc6,O-O,Nd4,Bh3,g3,b5,Bb3,Rfe8,Nf3,Rxe1+,Qxe1,Qf5,Qe3,Kf8,Rd1,Re8,Qd3,Qf6,Bxd5,g6,b3,Bc5,Bb7,Re6,Qd5,Re5,Nxe5,Qxf2+,Kh1,Qc2,Bxa6', 'Bg2+,Qxg2,Qxd1+,Qf1,Qxf1#', 'https://lichess.org/training/OzeY0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oZfEe', 'Blitz', 'LEZGIN-05', 2231, 'TheFangster', 2264, 'd4,d5,Nc3,Nf6,Bf4,Bf5,f3,c6,g4,Bg6,h4,h6,h5,Bh7,e3,e6,Qd2,Bb4,a3,Ba5,b4,Bc7,Nge2,Nbd7,b5,Bxf4,Nxf4,Qa5,Bd3,Bxd3,Qxd3,cxb5,O-O,a6,a4,b4,Nce2,Rc8,e4,dxe4,fxe4,Qg5,d5,Qxg4+,Kh1,exd5,exd5,O-O,Rg1,Qh4+,Qh3,Qxh3+,Nxh3,Nxd5,Rad1,N7f6,Nd4,Rc3,Nf2,Kh7,Nf5,Rg8,Rd2,Ne3,Nd4,Rd8,Rg3,Nf5,Rxg7+,Kxg7,Nxf5+,Kh7,Rxd8,Rxc2,Rd6,Nxh5,Rxh6+,Kg8,Ne4,Rc1+,Kh2,Nf4', 'Nf6+,Kf8,Rh8#', 'https://lichess.org/training/oZfEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ozFTO', 'Rapid', 'Ahmed_monir', 1706, 'emad-hozayen', 1707, 'Nf3,e5,e4,d6,d3,f5,Be2,Nf6,exf5,Bxf5,Bg5,Be7,Nc3,O-O,Bxf6,Rxf6,Nd5,Rf7,O-O,Be6,Nxe7+,Qxe7,Qd2,Nd7,Ng5,Rf6,d4,h6,Nxe6,Qxe6,b3,e4,d5,Qe5,f4,Qe7,Qe3,a6,c4,Raf8,Bg4,Nc5,b4,Nd3,c5,Qf7,Qxe4,Rxf4,Rxf4,Nxf4,Be6,Nxe6,dxe6,Qf6,Re1', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/ozFTO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OZH1H', 'Rapid', 'andersonnasc', 1649, 'M12223', 1683, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Nc3,Qxb2,Bd2,Nb4,Rc1,d6,Nd4,c5,Nb3,Bf5,e4,c4,Nd4,Bg6,exd6,Bxd6,Bxc4,Bc5,Nf3,Bh5,O-O,O-O-O,Bb3,Bxf3,gxf3,Nf6,Rb1,Qa3,Na4,Nc6,Qe2,Nd4,Qc4', 'Nxf3+,Kg2,Nxd2,Qxc5+,Qxc5', 'https://lichess.org/training/OZH1H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OZIet', 'Classical', 'kiumars1331', 1806, 'dustidunit', 1855, 'c4,e5,e3,d5,cxd5,Qxd5,Nc3,Qd8,Be2,Nc6,a3,Bf5,d3,Qg5,Bf3,Qg6,Ne4,Nf6,Qa4,Nxe4,dxe4,Bg4,Bxg4,Qxg4,g3,O-O-O,f3,Qd7,Ne2,Qh3,Kf2,Bc5,b4,Bb6,Nc3,g5,Nd5,g4,b5,gxf3,Kxf3,Qh5+,Kf2,Rxd5,exd5,Nd4,exd4,Bxd4+,Be3,Qf5+,Ke2,Qg4+,Kf2', 'Bxe3+,Kxe3,Qxa4', 'https://lichess.org/training/OZIet');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OZJUE', 'Blitz', 'andreigronivo', 2066, 'IM kalantaryan', 2572, 'd4,Nc6,c4,e5,d5,Nce7,Nf3,Ng6,Be3,Nf6,h3,Bb4+,Nbd2,O-O,a3,Bxd2+,Qxd2,d6,g3,Ne4,Qc2,f5,h4,f4,Qxe4', 'Bf5,Qxf5,Rxf5', 'https://lichess.org/training/OZJUE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OzK6B', 'Rapid', 'Super_chess-21', 1980, 'Venya', 1957, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,e5,Nc3,Bg4,Be2,Bd6,d4,e4,Ng5,Bf5,Be3,O-O,c5,Bc7,Bc4,Ng4,Nxf7,Rxf7,Qb3,Nxd4,Bxf7+,Kh8,Qd1,Nxe3,fxe3,Nf3+,gxf3,Qh4+,Kd2,Rd8+,Bd5,exf3,Qxf3,Bg4,Qe4,Qf2+,Kd3', 'Bf5,Qxf5,Qxf5+', 'https://lichess.org/training/OzK6B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OzLFH', 'Rapid', 'sakkariini', 1815, 'SansAvoirVecu', 1816, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,Na5,Bb3,Nxb3,axb3,Bc5,Bg5,c6,Qf3,Be7,h3,h6,Bh4,g5,Bg3,d6,Qe3,g4,Rxa7,Rxa7,Qxa7,gxh3,Nxh3,Ng4,f3,Nf6,Bh4,Rg8,Rg1,d5,Ne2,dxe4,dxe4,Nxe4,Bxe7', 'Qd2+,Kf1,Qd1#', 'https://lichess.org/training/OzLFH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OzM4i', 'Rapid', 'chessefo', 1669, 'AMateNamedDesire', 1721, 'e4,c6,d4,d5,Nc3,e6,e5,c5,Nf3,Nc6,Bb5,a6,Bxc6+,bxc6,dxc5,Bxc5,O-O,Ne7,Be3,Bb4,a3,Ba5,b4,Bc7,Ng5,Nf5,Nf3,Nxe3,fxe3,O-O,Ne2,a5,Ned4,Bb7,Qe2,Ba6,b5,cxb5,Nxb5,Qd7,a4,Rfb8,Rab1,Rb6,Ng5,Rf8,Qd3,g6,Qe2,Bxe5,Qg4,Bxb5,axb5,Rxb5,Rxb5,Qxb5,Qh4,h5,g4,Qe2,Nf3,Qxe3+,Kh1,hxg4', 'Ng5,Qh3,Nxh3', 'https://lichess.org/training/OzM4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ozman', 'Classical', 'BenoniJabroni', 2386, 'faking_chess', 2127, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,g6,Be3,Bg7,Be2,Nf6,f4,O-O,Nb3,a5,a4,Be6,O-O,Nd7,f5,Bxb3,cxb3,Nc5,Bc4,Ne5,Bd5,e6,Bxc5,dxc5,fxe6,fxe6,Bxe6+,Kh8,Rxf8+,Qxf8,Qe2,Rd8,Bd5,Nc6,Rf1,Qd6,Kh1,Nd4,Qd3,Nxb3', 'Nb5,Qe5,Qxb3', 'https://lichess.org/training/Ozman');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ozmOI', 'Classical', 'lesmer', 1698, 'toti61', 1846, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Bg5,h6,Nb5,Qb6,Bxf6,gxf6,c4,e5,c5,Qa5+,Qd2,Qxd2+,Kxd2,Kd8,dxe5,Bxc5,Rc1,Bb6,exf6,Nd7,Nf3,Nxf6,Ne5,Be6,Bc4,Ne4+,Ke2,Re8,Rhd1+,Kc8,Bxe6+,Rxe6,Kf1', 'Rxe5,Nd6+,Nxd6', 'https://lichess.org/training/ozmOI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oZOHX', 'Rapid', 'ndalatando', 1664, 'Pataf', 1802, 'e4,c6,d4,d5,e5,e6,Nd2,Nd7,Ngf3,c5,Nb3,cxd4,Nfxd4,Nxe5,Bf4,Bd6,Bb5+,Bd7,Qe2,Nf6,Bxd7+,Qxd7', 'Bxe5,Bxe5,Qxe5', 'https://lichess.org/training/oZOHX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OZOst', 'Rapid', 'Siamak1339', 1609, 'Serge59_fr', 1618, 'Nf3,d5,d4,Nf6,Nc3,e6,e3,c6,Bd3,Nbd7,a3,c5,dxc5,Bxc5,Bd2,O-O,h4,e5,Be2,Qb6,b4,Be7,h5,h6,Bb5,d4,exd4,exd4,Bxd7,Bxd7,Ne2,d3,cxd3,Ng4,O-O,Bb5,Nf4,Bf6,Nd5,Qd6,Nxf6+,Nxf6,Nh2,Bxd3,Bc3,Rad8,Re1,Qc6,Bxf6,Qxf6,Qg4,Bf5,Qf3,b6,Ng4,Qg5,Ne5,Rfe8,Qb3,Be6,Qf3,Bd5,Qg3,Qxh5,Rad1,Bb3', 'Rxd8,Rxd8,Qxb3', 'https://lichess.org/training/OZOst');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oZOUu', 'Blitz', 'lightinghamad', 2288, 'Indirect', 2227, 'e4,c5,Nf3,d6,d4,cxd4,c3,d3,Bxd3,Nf6,O-O,g6,h3,Bg7,Qe2,O-O,Rd1,a6,e5,Ne8,Bg5,h6,exd6,Nxd6,Bxe7,Qb6,Bxf8,Bxf8,Na3,Nc6,Nc4,Nxc4,Bxc4,Bf5,Nd4,Nxd4,cxd4,Rd8,g4,Bd7,Rac1,Qa5,Qe4,Qg5,f4,Qf6,Qe5,Qh4,Kg2,Re8,Qc7,Re7,Qb8,h5,f5,Re3,Rh1,Bc6+,d5,Bxd5+,Bxd5', 'Re2+,Kf1,Qf2#', 'https://lichess.org/training/oZOUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OZpvS', 'Rapid', 'runningfox', 1843, 'Bondamooku', 1858, 'e4,b6,d3,Bb7,g3,h6,Bg2,Nf6,Ne2,e6,O-O,h5,f4,Ng4,h3,Nh6,Nd2,g6,Nf3,Nc6,c3,Bg7,Nh2,Qe7,e5,O-O-O,d4,d5,exd6,Rxd6,Nf3,f6,Qa4,Kb8,Be3,Nf5,Bf2,h4,g4,Ng3,Nxg3,hxg3,Bxg3,f5,g5,a6,a3,b5,Qc2,Na5,b3,Be4,Qd2,Nxb3,Qb2,Nxa1,Qxa1,Bd3,Re1,Bc4,a4,c6,Ne5,Bxe5,fxe5,Rdd8,Bf4,Rc8,axb5,Bxb5,Rc1,Bc4,Rb1+,Ka7,Be3,Rh4,Qa5,Re4,Qb6+,Ka8,Bxe4,fxe4,Rb4,Bd3,c4,Qa7,Qxa7+,Kxa7,d5+,c5,Ra4,Kb6,d6,a5,Bd2,Rf8,Bxa5+,Kc6,Ra1,Bxc4,Rd1,Bd5,Rb1,Rf5,Bd8,Rxe5,Bf6,Rf5,Rb8,Kxd6,Rb6+,Bc6,Rb8,e3,Rb2,Rf3,h4,Rh3,Re2,Kd5,Kg2,Rxh4,Rxe3,c4,Kf2,Rh2+,Ke1,Ba4,Re5+,Kd6,Ra5,Bb3', 'Be5+,Kc6,Bxh2', 'https://lichess.org/training/OZpvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oZQN1', 'Rapid', 'arttab1', 1611, 'krd93', 1615, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Bc5,a3,a6,b4,Bb6,Bb2,d6,Bd5,Bd7,c3,Nge7,Nh4,a5,g3,axb4,axb4,Rxa1,Bxa1,Qa8,Bb2,Nxd5,exd5,Ne7,c4,Qa2,Qc2,Ba4,Nc3,Bxc2,Nxa2,Bxd3,c5,dxc5,bxc5,Bxc5,Bxe5,Nxd5,Bxg7,Rg8,Bxh6,Kd7,Nc1,Re8+,Kd2,Ba6,Nf5,Bb4+,Kc2,c5,Rd1,Re5,Ne3,Kc6,f4,Rxe3,Nd3,Re2+,Kb3,Rd2', 'Nxb4+,Nxb4,Rxd2', 'https://lichess.org/training/oZQN1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OZR2o', 'Rapid', 'AllahbakhshA', 1810, 'SebalfoRojo', 1804, 'e4,c5,Bc4,e6,d3,a6,a3,b5,Bb3,Nc6,Nc3,Nf6,Nf3,Be7,h3,Qc7,O-O,O-O,Bg5,Bb7,Bh4,d6,Bg3,Rac8,Qd2,Na5,Ba2,c4,Rac1,cxd3,cxd3,Qb6,b4,Nc6,d4,Na7,Qe3,h6,e5,dxe5,Nxe5,Rfd8,Rfd1,Nc6,Nxc6,Bxc6,Ne2,Nd5,Bxd5,Bxd5,Rxc8,Rxc8,Nf4,Qb7,Nxd5,Qxd5,Be5,f6,Bf4,g5,Bg3,Rc4,Qd3,Bd6,Qg6+,Kf8,Qxh6+,Ke8,Bxd6,Qxd6,Qxf6,Qd5,Re1,Kd7,Qf7+,Kd6,Qf8+,Kc6,Qc8+,Kd6,Qd8+,Kc6,Qa8+,Kb6,Qxd5,exd5,Re5,Rxd4,Rxg5,Rd3,f4,Kc6,Rg6+,Kb7,h4,Rxa3,h5,Re3,h6,Re8,f5,d4,h7,d3,Rd6,Rh8,Rxd3,Rxh7,Rf3,Rf7,g4,Kc7,Kg2,Kd6,Re3,Kd5,Kg3,Kd4,Kf4,Rf8,g5,Rh8,Re4+,Kd5,Re5+,Kd6,f6,Rh4+,Kf5,Rh1,Re1', 'Rxe1,g6,Rf1+', 'https://lichess.org/training/OZR2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OZR6O', 'Rapid', 'nute79', 1932, 'mamayka', 1665, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,d6,d4,O-O,Bxc6,bxc6,dxe5,Nd7,exd6,cxd6,Nc3,Qc7,Bf4,Nf6,e5,dxe5,Bxe5,Qb7,Ne4,Nxe4,Rxe4,c5,Qe2,Bg4,h3,Bxf3,Qxf3,f6,Bc3,Bd6,Rd1,Rad8,Qe2,Bc7,Re7', 'Rxd1+,Qxd1,Bh2+,Kxh2,Qxe7', 'https://lichess.org/training/OZR6O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OzT8i', 'Rapid', 'Lev22', 1687, 'Avijit_Roy70', 1679, 'e4,e6,d4,c6,Nf3,g6,Nc3,Bg7,Bd3,Nf6,Be3,O-O,Qd2,d5,e5,Ng4,Bg5,f6,exf6,Bxf6,Bh6,Nxh6,Qxh6,Bg7,Qe3,Nd7,h4,Nf6,O-O-O,Ng4,Qd2,Rf6,h5', 'Bh6,Qxh6,Nxh6', 'https://lichess.org/training/OzT8i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OZTSv', 'Classical', 'quentinsnake', 1655, 'mnaveenkumar2009', 1634, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,f6,Nxd4,Bd6,Nxc6,dxc6,O-O,f5,exf5,Bxf5,Re1+,Kd7,Bf4,b5,Bb3,Nf6,Nc3,Qf8,Bxd6,cxd6,Qf3,Bg4,Qg3,Re8,h3,h5,hxg4,hxg4,Rxe8,Qxe8,f3', 'Qe3+,Qf2,Rh1+,Kxh1,Qxf2', 'https://lichess.org/training/OZTSv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ozuno', 'Rapid', 'muravej', 1796, 'bokis2', 1954, 'e4,e5,Nc3,Nf6,Bc4,Be7,d3,O-O,Qf3,c6,Nge2,b5,Bb3,b4,Na4,d5,exd5,cxd5,O-O,Bg4,Qe3,d4,Qd2,Qd7,f4,Nc6,Ng3,Nd5,Bxd5,Qxd5,Ne4,f5,Nf2,Bh5,fxe5,Nxe5,Qe1,Bf3,Nh3,Bxg2,Nf4,Nf3+,Rxf3,Qxf3,Nxg2,Rae8,Qf1,Qg4,Qf4,Qg6,Qxd4,Bd6,Bf4,Bxf4,Qxf4,Re2,Qg3,Qc6,b3,Rxc2,Ne3,Rc1+,Rxc1,Qxc1+,Nf1,f4,Qf2,f3,Nc5,Rc8,Ne4,Qf4,Qe3,Qg4+,Kf2,Qg2+,Ke1', 'Rc1+,Qxc1,Qe2#', 'https://lichess.org/training/Ozuno');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OZUy8', 'Rapid', 'AhmedElfqi', 1869, 'GokhanG', 1966, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,Nf6,Be3,O-O,Bd3,Nbd7,Qd2,e5,d5,a5,h4,h5,Bg5,Nc5,O-O,Qe8,Bb5,Bd7,Bxd7,Qxd7,a3,Nfxe4,Nxe4,Nxe4,Qe3,f5,Nd2,Nf6,f4,Nxd5,Qb3,c6,fxe5,dxe5,Nc4,Kh7,Rad1,Qf7,Qg3,f4,Qe1,Qf5,Rd2,e4,Nd6,Qe5,Nc4,Qe6,Re2,Bd4+,Kh1,Rae8,c3,Ba7,Nd2,Ne3,Rxf4,Rxf4,Bxf4,Qg4', 'Bxe3,Bxe3,Rxe3', 'https://lichess.org/training/OZUy8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oZv4O', 'Rapid', 'petrm', 1880, 'beidagh', 1962, 'Nf3,Nc6,c4,Nf6,Nc3,e5,d4,exd4,Nxd4,Nxd4,Qxd4,Be7,e4,d6,Bd3,O-O,f4,c5,Qf2,Ng4,Qf3,Bh4+,g3,Bf6,h3,Bxc3+,bxc3,Nf6,g4,a6,g5,Nd7,h4,b5,h5,b4,cxb4,cxb4,g6,fxg6,hxg6,h6,f5,Ne5,Qh3,Nxd3+,Qxd3,Re8', 'Qd5+,Be6,fxe6', 'https://lichess.org/training/oZv4O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OzVaZ', 'Rapid', 'eevee4win', 1631, 'chessnight007', 1627, 'e4,g6,d4,Bg7,Nf3,d6,c4,Bg4,Be3,Nd7,Be2,Bxf3,Bxf3,c6,O-O,Ngf6,Nc3,e5,dxe5,Nxe5,Be2,O-O,f4,Ned7,e5,dxe5,fxe5,Nxe5,Qxd8,Raxd8,Bxa7,Rd2,Bc5,Re8,Bd1,Rxb2,Bd4,Nfd7,Na4,Rd2,Bxe5,Nxe5,Bb3,Ng4,c5,Bxa1,Bxf7+,Kf8,Bxe8+,Kxe8,Rxa1,Rc2,Re1+,Kd7,Nb6+,Kc7,Re7+,Kb8', 'Re8+,Ka7,Ra8#', 'https://lichess.org/training/OzVaZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ozxAN', 'Classical', 'Meskad', 1656, 'angelo888', 1752, 'e4,c5,Bc4,Nf6,Nc3,Nc6,Nf3,e5,Qe2,Be7,Nd5,Nxd5,Bxd5,Nd4,Nxd4,cxd4,d3,f5,exf5', 'Qa5+,Bd2,Qxd5', 'https://lichess.org/training/ozxAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OzYo1', 'Blitz', 'Raditz21', 1718, 'JGuzmanUCH', 1755, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,f6,c3,dxc3,Nxc3,Bb4,O-O,Bxc3,bxc3,d6,Re1,Ne5,Nxe5,fxe5,Re3,Bd7,Rg3,Qe7,Bb3,Nf6,Bg5,Be6,Rb1,Bxb3,Qxb3,h6,Bxf6,Qxf6,Qxb7,Kd7,Qb5+,Ke7,Qc6,Rhc8,h3,Kd8,Rf3,Qe7,c4,Qe8,Qd5,Rcb8,Rd1,Rb2,c5,Kc8,c6,Rab8,Kh2,Rb1,Rf8,Qxf8', 'Qe6+,Kd8,Qd7#', 'https://lichess.org/training/OzYo1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('OZYpr', 'Rapid', 'SiggiHD', 1645, 'sergiolana', 1749, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,Nc3,Qh5,d4,Bg4,Be2,g5,Nd5,Bxf3,Bxf3,Qh4+,Kd2,Qf2+,Qe2+,Qxe2+,Kxe2,Na6,b4,O-O-O,b5,Re8+,Kf2,Nb4,Nxb4,Bxb4,Rb1,Bd6,c4,b6,a4,Nh6,h3,Nf5', 'Bg4,Kb8,Bxf5', 'https://lichess.org/training/OZYpr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('oZzse', 'Classical', 'Androkz1970', 1718, 'ale71', 1703, 'c3,e5,d3,Nf6,h3,d5,g4,Be6,Bg2,Bd6,Nd2,O-O,Nf1,Nc6,g5,Nd7,h4,f5,gxf6,Qxf6,Nf3,h6,e4,Bg4,N1h2,Qg6,Rg1,Bxf3,Nxf3,dxe4,dxe4,Qxe4+,Be3,Bc5,Nd2,Qxh4,Qb3+,Kh8,O-O-O,Bxe3,fxe3,Nb6,Nf3,Qf2,c4,Na5,Qc3,Naxc4,Nxe5,Na4', 'Ng6+,Kh7,Nxf8+', 'https://lichess.org/training/oZzse');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P026X', 'Classical', 'Moon636', 1815, 'Est357', 1900, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Nc3,Ne7,a3,Nbc6,Nb5,Bg4,Be2,a6,Nxd6+,Qxd6,h3,Bh5,O-O,f6,Be3,g5,Nh2,Bxe2,Qxe2,h5,f4,O-O-O,fxg5,fxg5,Bxg5,Rde8,Nf3,Nf5,Qd3,Ng3,Rfe1,Ne4,Bh4,Rhg8,c4,Qg6,Re2,Ng3,Qxg6', 'Nxe2+,Kf2,Rxg6', 'https://lichess.org/training/P026X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P054Y', 'Blitz', 'CM xGUSTx', 2476, 'zakramnika', 2527, 'Nf3,Nf6,c4,g6,g3,Bg7,Bg2,O-O,O-O,d6,d4,Nbd7,Nc3,e5,Qc2,Re8,Rd1,c6,e4,a5,d5,cxd5,cxd5,Nc5,Nd2,b6,a4,Ba6,f3', 'Bd3,Qxd3,Nxd3', 'https://lichess.org/training/P054Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p08vB', 'Blitz', 'mrtmrt', 1751, 'Ura424036', 1889, 'e4,e5,Nc3,Nc6,Nf3,d6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Be7,O-O,O-O,Bg5,h6,Bh4,Bb7,Qe2,Nh7,Bxe7,Qxe7,Ba6,Rab8,Bxb7,Rxb7,Qa6,Rxb2,Qxc6,Rxc2,Rfc1,Rxc1+,Rxc1,Nf6,f3,Ne8,Qb7,a5,Qb5,Qe5,Nd5,Qd4+,Kh1,c5,Qxa5,Nf6,Ne7+,Kh8,h3,Nh5,Nf5,Qb2,Qc3,Qxa2,g4,Nf6,e5,dxe5,Qxe5,Re8,Qxc5,Re2', 'Qf8+,Kh7,Qxg7#', 'https://lichess.org/training/p08vB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P09gY', 'Classical', 'eagleclaw17', 1779, 'Roanchb', 1710, 'e4,c5,f4,Nc6,Nf3,d5,e5,e6,Be2,Nge7,O-O,Nf5,c3,Qb6,Kh1,d4,Bd3,dxc3,bxc3,Bd7,Be4,Be7,Na3,Rd8,Nc4,Qc7,Qe2,f6,Bxf5,exf5,e6,Bc8,Nh4,g6,Nxf5,gxf5', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/P09gY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0a98', 'Rapid', 'phoneixslayer', 1640, 'Akinparov', 1756, 'e4,e5,d4,f6,d5,f5,exf5,d6,c4,Bxf5,Qh5+,g6,Qe2,c6,f4,Bg7,fxe5,Bxe5,Nf3,Nd7,Nxe5,Nxe5,Bf4,Qe7,dxc6,bxc6,Bxe5,dxe5,g3,Nf6,Bg2,Rc8,O-O,O-O,Re1,Nd7,Nc3,Qc5+,Kh1,Rfe8,Be4,Rf8,a3,Qd4,g4,Bxe4+,Nxe4,Rf4', 'Rad1,Qxe4+,Qxe4,Rxe4,Rxe4', 'https://lichess.org/training/p0a98');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0dah', 'Classical', 'dthtozlyt', 1915, 'ysysoori', 2188, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,Ne4,Nxe4,dxe4,e3,c6,Qb3', 'Qa5+,Qc3,Qxg5', 'https://lichess.org/training/P0dah');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0dbx', 'Rapid', 'Feliero011-Youtube', 2009, 'behzat4646', 1926, 'd4,d5,Bf4,Bf5,Nf3,e6,e3,a6,Bd3,Bxd3,Qxd3,Nc6,c4,dxc4,Qxc4,Nf6,Nc3,Nh5,Be5,f6,Bg3,Qd7,Rd1,Nxg3,hxg3,Bd6,d5,exd5,Nxd5,O-O-O,Nd4,Nxd4', 'Nb6+,Kb8,Nxd7+', 'https://lichess.org/training/p0dbx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0egA', 'Blitz', 'CjSunny', 2236, 'jyotisko2006', 2005, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nf3,e6,Bd3,Bd6,Ne5,O-O,Nd2,Ne7,Bg3,b6,f4,Nf5,Qf3,Bb7,Bf2,Be7,g4,Nd6,g5,Nfe4,O-O-O,cxd4,exd4,Rc8,Kb1,b5,Be3,a5,Bxe4,dxe4,Qh5,g6,Qh4,Nf5,Qh3,b4,Ng4,bxc3,bxc3,Qb6+,Ka1,Rxc3,Rb1,Qa6,Rhe1,Bd5,Nb3,a4,Nc5,Bxc5', 'Nf6+,Kg7,Qxh7#', 'https://lichess.org/training/p0egA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0F7t', 'Classical', 'emirerhan', 1685, 'profebruno22', 1654, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Be7,a3,O-O,Qd3,Re8,Be2,c6,O-O,Nbd7,Bg5,Qb6,b4,a6,Rfe1,Qd8,Nd1,b5,Ne3,Nb6,Ne5,Bb7,Nf5,Na4,Rab1,Ne4,Bxe7,Rxe7,Nxe7+,Qxe7,f3,Nf6,g3,Qd6,f4,Ne4,Bh5,g6,Bg4,Nac3,Rxe4,Nxe4,f5,Bc8,Rf1,a5,fxg6,Bxg4,gxf7+,Kf8,Nxg4,axb4,axb4,Qxb4,c3,Qxc3,Qxc3,Nxc3,Ne5,Ne2+,Kg2,Nxd4', 'Nd7+,Ke7,f8=Q+,Rxf8,Nxf8', 'https://lichess.org/training/P0F7t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0FCp', 'Blitz', 'CM Bierpower', 2379, 'walli82', 2307, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,Qg6,O-O,Qxe4,Nd2,Qg6,Nb5,Bxe3,fxe3,O-O,Nxc7,Rb8,e4,Ne5,Bb3', 'Qb6+,Kh1,Qxc7', 'https://lichess.org/training/P0FCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0fme', 'Blitz', 'fxsakib', 1829, 'Ja_han', 1892, 'e4,c6,d4,d5,exd5,cxd5,Nc3,a6,Nf3,Bg4,Be3,e6,Bd3,Nf6,Qd2,b5,h3,Bh5,g4,Bg6,Bxg6,hxg6,g5,Nfd7,h4,Nc6,O-O-O,Bb4,Qd3,Na5,Ne5,Rc8,Ne2,Nxe5,dxe5,Nc4,Nf4,Qa5,Kb1,Nxe3,fxe3,O-O,h5,Rc7,hxg6,Rfc8,gxf7+,Rxf7,Nxe6,Rfc7,g6,Rxc2,e4,Rxb2+,Ka1,Bc3', 'Rh8+,Kxh8,Qh3+,Kg8,Qh7#', 'https://lichess.org/training/p0fme');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0g0X', 'Classical', 'Kvng_Mikhael', 1916, 'AbhishekSable', 1897, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,Ng4,O-O,Ngxe5,Nxe5,Nxe5,Re1,f6,f4,Bd6,Qxd4,Qe7,fxe5,Bxe5,Qf2,b6,Bf4,Bb7,Bxe5,fxe5,Qe2,O-O-O,Nc3,Qc5+,Kh1,Rhf8,Ba6,Rf2,Bxb7+,Kxb7,Qe4+,c6,Qxe5', 'Rf1+,Rxf1,Qxe5', 'https://lichess.org/training/P0g0X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0gmj', 'Rapid', 'Zerovsky', 1946, 'KD20C', 1896, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,h6,Nf3,e4,Ne5,Qd5,d4,exd3,Nxd3,Qxg2,Qe2+,Be7,Rf1,O-O,b4,Bxb4+,Kd1,Re8,Be3,Bg4,f3,Qxe2+,Kxe2,Bh3,Nxb4,Bxf1+,Kxf1,Rxe3,Nxc6,Rxf3+,Kg2,Rf5', 'Ne7+,Kf8,Nxf5', 'https://lichess.org/training/p0gmj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0h4U', 'Classical', 'DaArtfulDodger', 1717, 'shayaa59', 1937, 'e4,e5,Nf3,Nf6,Nxe5,d5,exd5,Qxd5,Qe2,Be7,Nc3,Qd8,d3,O-O,Be3,Nbd7,Nxd7,Bxd7,g3,Bc6,Rg1,Nd5,Nxd5,Bxd5,Bg2,Bf6,c3,c6,Bxd5,Qxd5,c4,Qa5+,Kf1,Bxb2,Qxb2,Qh5,Kg2,b6,Rge1,c5,Qe2,Qg6,Rad1,Rfe8,Qf3,Rad8,Bf4,Rxe1,Rxe1,h6,Qb7,Rxd3,Re8+,Kh7,Qxa7', 'Qc6+,Kh3,Qxe8', 'https://lichess.org/training/P0h4U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0hrx', 'Rapid', 'ericrulz', 2006, 'mehdi-abadeh', 1747, 'Nf3,e6,c4,d5,d4,Bb4+,Nc3,dxc4,e3,Nf6,Bxc4,Ne4,Qd3,Bxc3+,bxc3,f5,Ba3,Nd6,Bb3,O-O,O-O,Rf6,c4,b6,Ne5,Bb7,c5,bxc5,Bxc5,Nc6,Nc4,Nxc4,Bxc4,Ne5', 'dxe5,Qxd3,Bxd3', 'https://lichess.org/training/P0hrx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0l4F', 'Rapid', 'RilloStu', 1689, 'apervaiz', 1689, 'd4,d5,Bf4,Nf6,Nf3,e6,h3,c5,e3,Nc6,c4,cxd4,exd4,Bd6,Qd2,Bxf4,Qxf4,O-O,Nc3,h6,cxd5,Nxd5,Nxd5,exd5,Bd3,Re8+,Be2,Qa5+,Kf1,Be6,Ne5,Nxe5,Qxe5,Qd2,Bb5,Re7,Kg1,Qxb2,Kh2,Qxb5,g4,f6,Qe3,Rae8,Qg3,Qd7,f4,Bf7,Rag1,Re2+,Rg2,R2e4,g5,fxg5,fxg5,hxg5,Qxg5,Qd6+,Qg3,Qxg3+,Kxg3,Rxd4,Rhg1,Rd3+,Kh2,g6,h4,Re5,Rc2,Kg7,Rc7,Rh5,Kg2,Rxh4,Kf2,Rh2+,Ke1,Ra3,Rf1,Re3+,Kd1,Rd3+,Kc1,Kh6,Rcxf7,Ra3,Rf8,Kg7', 'R1f7+,Kh6,Rh8+,Kg5,Rxh2', 'https://lichess.org/training/P0l4F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0lhk', 'Rapid', 'Arc_S', 1912, 'dariosauro', 1868, 'd4,d5,c4,c6,Nf3,h6,e3,Nf6,Be2,Bf5,O-O,e6,Nc3,Be7,b3,O-O,Bb2,Ne4,Nd2,Nxc3,Bxc3,Nd7,Nf3,dxc4,bxc4,Nf6,Ne5,Nd7,Nf3,Bf6,Bd3,Bxd3,Qxd3,Nc5,Qc2,Nd7,Rab1,b6,c5,b5,a4,a6,axb5,axb5,Ra1,Qc7,Ra2,Qb7,Rfa1,Rxa2,Qxa2,b4,Bb2,Rb8,Qa7,Nxc5,Qxc5,b3,Ra3', 'Be7,Qa7,Bxa3', 'https://lichess.org/training/P0lhk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0Lq4', 'Rapid', 'hojat', 1774, 'valdeilton', 1853, 'd4,e6,e4,d5,Nc3,Bb4,e5,c5,Bd2,cxd4,Nb5,Bxd2+,Qxd2,Nc6,f4,Nge7,Nd6+,Kf8,Nf3,Bd7,b4,Qb6,b5,Nd8,Bd3,Bxb5,Nxb5,Rc8,Nbxd4,Ndc6,O-O,Nxd4,Kh1,Nxf3,Rxf3,g6,Qe1,Qd4,Rb1,b6,Qh4,h5,Rb3,Nf5,Qf6,Rg8,h3,Qa1+,Kh2,Nd4,Rg3,Nxb3,axb3,Qa3,Bxg6,Qe7,Bh7,Qxf6,Rxg8+,Ke7,exf6+,Kd7,Rxc8,Kxc8,Bg8,Kd7,Bxf7,a5,Bxh5,b5,f7,Ke7,Kg3', 'a4,bxa4,bxa4', 'https://lichess.org/training/p0Lq4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0Ltm', 'Blitz', 'jaymemaceio', 2332, 'IM Berardino', 2580, 'Nf3,Nf6,d4,c5,c3,Qc7,e3,g6,Be2,Bg7,O-O,O-O,Nbd2,b6,b3,Bb7,Bb2,d6,c4,Ne4,Nxe4,Bxe4,Nd2,Bb7,Bf3,Nc6,Bxc6,Bxc6,Qc2,cxd4,exd4,Rac8,d5,Bxb2,Qxb2,Bd7,Nf3,b5,Rac1,Qb6,Qd2,bxc4,bxc4,Rc7,Rc3,Rfc8,Rfc1,Qb4,Qh6,f6,Nd2,Qb2,h4,Qxa2,h5,g5,Ne4,Rxc4,Nxg5,Bf5,Rxc4', 'Rxc4,Rxc4,Qxc4,Ne6,Bxe6', 'https://lichess.org/training/P0Ltm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0mQ1', 'Rapid', 'PsoyKorolenko', 2258, 'bogdanik51806', 2164, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,c4,Bc5,d4,Bb4+,Bd2,Bxd2+,Qxd2,Qd6,Bd3,O-O,O-O,Ng4,c5,Qh6,Nc3,Ne3,Rf2,Bg4,Ne4,Bxf3,Rxf3,f5,Nf2,Nxd5,Bc4,c6,Rh3,Qg5,Nd3,Kh8,Bxd5,cxd5,Qxf4,Qxf4,Nxf4,Rd8,Ng6+,Kg8,Ne7+,Kh8,Nxf5,Nc6,Nd6,Rd7,Rh4,b6,Rf1,Kg8,a3,a5,Rf5,Nxd4', 'Rxd4,bxc5,Rdxd5', 'https://lichess.org/training/p0mQ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0NQR', 'Rapid', 'juanTremols', 1941, 'Pawn_TO_Eye', 1926, 'e4,d5,Nf3,dxe4,Ng5,Nf6,d3,Bf5,Nc3,h6,Ngxe4,Bxe4,dxe4,Qxd1+,Kxd1,e6,Bf4,c6,Bd3,Bb4,a3,Bxc3,bxc3,Ng4,Ke2,O-O,e5,f6,h3,fxe5,Bg3,Nf6,Bxe5,Nbd7,Bd6,Rfe8,Bg6,Red8,c4,b6,g4,Nf8,Bxf8,Rxf8,Rad1,c5,Rd6,e5,Rhd1,e4,Re6,Rad8,Re7,Rxd1,Kxd1,Rd8+,Ke2,Rd4,Rxa7,Kf8,Ra8+,Ke7,Ra7+,Ke6,Bf5+,Ke5,Rxg7,Rxc4,Re7+,Kf4,Rf7,Rxc2+,Kd1,Rxf2,Rxf6,e3,Bd3+,Kg3,Rxh6,Rd2+,Ke1,Rxd3,g5,Kf3,Rf6+,Ke4,Rxb6,Rxa3,Re6+,Kf3,Rf6+,Ke4,Re6+,Kd3,Rd6+,Ke4,g6,Ra1+,Ke2,Ra2+,Ke1,Rg2,Re6+,Kd3,Kf1,Rf2+,Ke1,Rg2,h4', 'Rg1#', 'https://lichess.org/training/p0NQR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0Q6W', 'Classical', 'pianomariano', 1610, 'Rado122', 1647, 'e4,c6,Nf3,d5,exd5,cxd5,Nc3,Nf6,d4,Nbd7,Bg5,e6,Ne5,h6,Bxf6,Qxf6,Qf3,Nxe5,dxe5,Qxe5+,Be2,Bb4,O-O,Bxc3,bxc3,O-O,Bd3,Bd7,Rfe1,Qg5,c4,dxc4,Bxc4,Bc6,Qh3,Bxg2,Qxg2,Qc5,Bd3,Rac8,Qe4,f5,Qxb7,e5,Re3,e4,Rg3,Rf7,Qb2,exd3,cxd3,f4,Rg4,Qf5,h3,h5,Rg2,f3,Rg3,h4,Rg4,Qxd3,Rxh4,Qg6+,Rg4,Qh5,Kh2,Re8,Qb3', 'Qe5+,Rg3,Qxa1', 'https://lichess.org/training/p0Q6W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0QcN', 'Bullet', 'Mias02', 2194, 'FM Donseng', 2596, 'd4,Nf6,c4,e6,Nc3,d5,Bf4,dxc4,e3,a6,Bxc4,b5,Bb3,Bb7,Nf3,Nbd7,O-O,c5,dxc5,Bxc5,Qe2,O-O,Rfd1,Qe7,Rac1,Rac8,Bc2,h6,Bb1,e5,Bg3,Rfd8,a3,Ba7,e4,Nh5,Nd5,Bxd5,exd5,Nxg3,hxg3,Rxc1,Rxc1,Nf6,Qxe5,Qxe5,Nxe5,Nxd5,Rc6,Nf6,Rxa6,Rd1+,Kh2,Rxb1,Rxa7,Rxb2,Nxf7,Ng4+,Kh3,Nxf2+,Kh4,Rb1,g4,Ne4,g5,hxg5+,Nxg5,Nxg5,Kxg5,Rg1,g4,Rc1,Kg6,Rc5', 'Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/P0QcN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0QZD', 'Rapid', 'bebeguilhem', 1481, 'luuletaja', 1498, 'e4,c5,Nf3,Nc6,Bc4,a6,Ng5,e6,d3,f6,Nf3,b5,Bxe6,dxe6,O-O,Ne5,Nxe5,fxe5,Qh5+,Kd7,Qxe5,Nf6,f4,h6,f5,Bd6,Qxe6+,Kc7,Qf7+,Bd7,Qxg7,Bf8,Qxh8,c4,Bxh6', 'Bc5+,Kh1,Qxh8', 'https://lichess.org/training/P0QZD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0Rt2', 'Rapid', 'kibirlisogan', 2002, 'marmat2', 1870, 'd4,d5,e4,e6,e5,c5,Nf3,Nc6,dxc5,Bxc5,Bb5,Bd7,O-O,Nxe5,Nxe5,Bxb5,Qf3,Nf6,c4,dxc4,Qxb7,a6', 'Qxf7#', 'https://lichess.org/training/P0Rt2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0s6s', 'Rapid', 'YannickMugevisa', 1790, 'Nige1', 1793, 'e4,e6,e5,d5,exd6,cxd6,Bb5+,Nc6,Ne2,a6,Ba4,b5,Bb3,Na5,Ng3,Nxb3,axb3,Bb7,O-O,Nf6,d3,h6,Nc3,Qc7,Nce4,Qc6,Nxf6+,gxf6,f3,Rg8,Nh5', 'Qc5+,d4,Qxh5', 'https://lichess.org/training/p0s6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0sNH', 'Blitz', 'NainMaboul', 1826, 'SaltyTomato', 2122, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Bxf6,gxf6,Na3,b5,Nd5,Bg7,c3,f5,Bd3,Ne7,Nxe7,Qxe7,Qh5,f4,Nc2,Be6,a4,O-O,axb5,axb5,O-O,Bc4,Nb4,Qb7,Qf3,f5,Bxc4+,bxc4,exf5,Qxf3,gxf3,Kf7,Rad1,Rfd8,Rd5,Bf8,Rfd1,Kf6,Nc6,Rdc8,Na5,Kxf5,Nb7,Rcb8,Nxd6+,Bxd6,Rxd6,Rxb2,Rc6,Raa2,Rf1,Ra4,Rd1,Rc2,Rdd6,Raa2,Rf6+,Kg5,Rh6,Rxf2', 'h4+,Kf5,Rcf6#', 'https://lichess.org/training/P0sNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0TBd', 'Rapid', 'chelogoi', 1941, 'jocalux', 1941, 'e4,e5,Nf3,Nc6,d3,Bc5,Be2,Nf6,Bg5,h6,Bh4,g5,Bg3,d6,O-O,Be6,c4,Qd7,a3,g4,Ne1,h5,Bh4,Rh6,Kh1,Nd4,f4,gxf3,Nxf3,Nxf3,Rxf3,Ng4,Qd2,Rg6,h3,Nh6,Rf1,Rxg2,Qxh6,Rg8,Bxh5,Bxh3,Rxf7', 'Bg2+,Kh2,Qh3#', 'https://lichess.org/training/P0TBd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0Tcr', 'Blitz', 'GM maciek_92', 2619, 'IM Saparmyrat', 2645, 'd4,Nf6,c4,e6,Nf3,b6,g3,Ba6,Qc2,d5,cxd5,exd5,Bg2,Bd6,Nc3,c6,O-O,O-O,Re1,Re8,Bg5,h6,Bxf6,Qxf6,e4,Qg6,Nh4,Qh7,Qd2,Nd7,exd5,cxd5,Bxd5,Rad8,Ne4,Bf8,Qf4,Ne5,dxe5,Rxd5,Nf3,Bb7,Nd6,Bxd6,exd6,Rd8,Re7,Rf5,d7,Qg6,Qc7,Rxd7,Qxd7,Bxf3,Re8+,Kh7,Qc8,Qg4,Rae1', 'Qh3,Qxf5+,Qxf5', 'https://lichess.org/training/p0Tcr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p0Whj', 'Blitz', 'car-mann', 2423, 'GM Rikikits', 2612, 'd4,a6,e4,b5,a4,Bb7,f3,b4,c4,c5,d5,e5,b3,d6,Bd3,g6,Ne2,Bg7,O-O,Ne7,Ra2,O-O,f4,exf4,Bxf4,Bc8,Nd2,Bg4,h3,Bxe2,Qxe2,Re8,Nf3,Nc8,Qf2,Ra7,Qg3,Qe7,Re2,Nd7,Bg5,Qf8,Rfe1,Ne5,Nxe5,Bxe5,Qg4,f6,Bd2,Rae7,Kh1,Nb6,Rf1,Nd7,Ref2,Qg7,Qd1,Bd4,Re2,Ne5,Bc2,Rf8,Qc1,a5,Bh6,Qf7,Bxf8,Qxf8,Qf4,Rf7,g4,Kg7,Rg2,g5,Qf5,Ng6,Qe6,Be5,Rf5,Nh4,Rgf2,Nxf5,Qxf5,Qh8,Bd1,Qe8,Rf3,Bf4,h4,Qe5,Qxe5,fxe5,h5,Kf8,Kg2,Ke7,Be2,Rf6,Bd1,Rh6,Be2,Kf6,Bd1,Kf7,Be2,Kf8,Bd1,Ke8,Be2,Ke7,Bd1,Rf6,Be2,Rf8,Bd1,Rc8,Be2,Rb8,Bd1,Rb7,Be2,Ra7,Bd1,Ra8,Be2,Rc8,Bd1,h6,Be2,Bd2,Bd1,Bc3,Rf5,Bd4,Be2,Be3,Bf3,Bf4,Be2,Rc7,Kf3,Rb7,Bd3,Rb8,Bc2,Ra8,Bd3,Ra7,Bc2,Ra6,Bd3,Rb6,Bc2,Rb7,Bd3,Rc7,Bc2,Rc8,Bd3,Rd8,Bc2,Rf8,Bd3,Rxf5,exf5,Kf6,Be4,Bd2,Bd3,Bc3,Be4,Bb2,Bd3,Ba1,Be4,Bc3,Bd3,Bd4,Ke4,Bg1,Be2,Bh2,Bf3,Bf4,Be2,Ke7,Bf3,Kd8,Be2,Kc7', 'f6,Kd8,Kf5', 'https://lichess.org/training/p0Whj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0Yho', 'Rapid', 'beginningless', 1915, 'abcd1611', 1846, 'd4,Nf6,c4,d5,Nc3,c6,e3,Bg4,Nf3,Ne4,cxd5,Nxc3,bxc3,Qxd5,c4,Qd8,Qb3,Qc7,Rb1,b6,Ne5,Bd7,c5,bxc5,Nxf7,e6,Nxh8,cxd4,Nf7,Kxf7,exd4,Bc8,Bc4,Bd6,d5,cxd5,Bxd5,Qa5+,Bd2,Qxd5,O-O,Qxb3,Rxb3,Na6,Re1,Nc5,Rf3+,Ke7,Rh3,h6,Bc3,e5,Bxe5,Bxe5,Rxe5+,Kd6,Rhe3,Ba6,Re7,g6,g3,Bc4,a3,Rb8,Rxa7,Rb7,Ra8', 'Rb1+,Kg2,Bd5+,Kh3,Bxa8', 'https://lichess.org/training/P0Yho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P0YVv', 'Classical', 'LeO200509', 1769, 'GeorgeGrand', 1822, 'e4,c5,Nf3,Nc6,d4,g6,Bb5,Bg7,dxc5', 'Qa5+,Nc3,Bxc3+', 'https://lichess.org/training/P0YVv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p16G8', 'Rapid', 'Miltinho', 1745, 'Samagace69', 1725, 'e4,e6,e5,c5,c4,Nc6,Nf3,Qc7,d3,Nxe5,Bf4,Bd6,Nxe5,Bxe5,Bxe5,Qxe5+,Qe2,Qc7,Nc3,a6,g3,Qc6,Rg1,Nf6,Bg2,Qc7,O-O-O,O-O,h4,Rb8,h5,h6,g4,Qf4+,Kb1,Nxg4,Bf3,Ne5,Qe4,Qxf3,Rxg7+,Kxg7,Rg1+,Kf6,Qh4+,Kf5,Rg3,Qf4,Qh3+,Kf6,Qh2,Nxd3,Ne2,Qf5,Qh4+,Ke5,Re3+,Kd6,Ka1,Qxf2', 'Rxd3+,Kc6,Qxf2', 'https://lichess.org/training/p16G8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1Bjh', 'Classical', 'prlck', 1651, 'Hillblah', 1600, 'e4,e5,Bc4,Nf6,d4,d6,dxe5,Nxe4,Qd5,Ng5,Bxg5,Qxg5,Qxf7+,Kd8,Nc3,Qxe5+,Nge2,c6,O-O-O,Be7,f4,Qf6,Qh5,Qf5,Qf3,Kc7,Nd4,Qc5,Ne4,Qxc4,Rhe1,Re8,f5,Na6,a3,Nc5,Kb1,Nxe4,Rxe4,Qf7,Qc3,Bf6,Nb5+,Kb8,Nd4,Rxe4,Qb4,Bxd4,Qxd6+,Qc7,Qb4,Bxf5,Rxd4,Rxd4,Qxd4,Qe7,Qf4+,Qc7,Qxf5,g6,Qe6,b5,Qe8+,Kb7,Qe3,Qxh2,Qf3,Re8,Qf7+,Kb6,Qxe8,Qxg2,Qb8+,Ka6,Qc8+,Ka5,Qc7+,Ka6,Qc8+,Kb6,Qd8+,Kc5', 'b4+,Kc4,Qd3#', 'https://lichess.org/training/p1Bjh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P1BWU', 'Blitz', 'gector52', 1914, 'Said410549', 1895, 'e4,Nf6,e5,Nd5,d4,d6,Nc3,Nxc3,bxc3,dxe5,dxe5,Qxd1+,Kxd1,Bf5,Bd3,Be6,f4,Nc6,Nf3,g6,Ke2,Bg7,Be3,O-O,a3,Rad8,Nd4,Nxd4+,cxd4,Bg4+,Kf2,f6,h3,Bd7,Ke2,fxe5,fxe5,e6,Rhf1,Bc6,g3,b6,h4,Bd5,a4,a5,c3,Rf7,Rxf7,Kxf7,Rf1+,Kg8,h5,Rf8,hxg6,hxg6,Bxg6', 'Bc4+,Bd3,Bxd3+,Kxd3,Rxf1', 'https://lichess.org/training/P1BWU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1GBL', 'Blitz', 'bujari123456', 2230, 'fitim96', 1914, 'Nf3,d5,b3,Nf6,Bb2,Nc6,e3,e6,d4,Be7,c4,a6,Nc3,Bb4,Bd3,Ne4,Bxe4,dxe4,Nd2,f5,O-O,O-O,f3,exf3,Nxf3,Bxc3,Bxc3,b5,d5,exd5,cxd5,Ne7,Qd4,Rf7,Ng5,Rf6,Rad1,h6,Nf3,Bb7,Qc5,Rd6,Bb4,Rxd5,Qxe7,Rxd1,Qe6+,Kh8,Bc3,Rxf1+,Kxf1,Bxf3', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/p1GBL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1HUn', 'Rapid', 'geetansh', 1701, 'Bob1957', 1897, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Bc4,c6,d3,Nf6,h3,Bf5,Nf3,e6,O-O,a5,a3,Qc7,Re1,Bd6,Nd4,O-O,Bg5,Nbd7,g4,Bg6,Nf3,h6,Bh4,b5,Ba2,b4,axb4,axb4,Ne2,Ne5,Nxe5,Bxe5,Bg3,Bxg3,Nxg3,Rfd8,Qd2,c5,Ne2,Rd6,Nf4,Bh7,Nxe6,Qc8,Nf4,Nxg4,Kg2,Qc6+,Kg3,Nf6,Bd5,Nxd5,Nxd5,Rxa1', 'Ne7+,Kf8,Nxc6,Rxe1,Qxe1', 'https://lichess.org/training/p1HUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P1iF0', 'Rapid', 'MAZAY45', 1976, 'Johnny_Galax', 2038, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Qe7,cxd4,d6,Bb5,Bg4,O-O,dxe5,d5,Rd8,Nc3,a6,Ba4,b5,Bb3,Nd4,Bg5,Nxf3+,gxf3,Bh3,Re1,Qd6,f4,e4,Nxe4,Nxe4,Rxe4+,Kd7,Bxd8', 'Qg6+,Bg5,Qxe4,Qf1,Bxf1', 'https://lichess.org/training/P1iF0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1j2g', 'Bullet', 'LubaalePeter', 1900, 'tirlusa72', 1925, 'e4,e5,Nf3,d6,Bc4,Be7,c3,Nf6,d3,O-O,O-O,Nc6,a4,Bg4,Nbd2,Re8,h3,Bh5,Re1,h6,Nf1,Bf8,Ng3,Bg6,Nh4,Kh8,Nxg6+,fxg6,d4,exd4,cxd4,Nxe4,Bf7,Re7,Bxg6,Nxg3,fxg3,Rxe1+,Qxe1,Qf6,d5,Qxg6,dxc6,bxc6,Qc3,c5,b3,Re8,Bb2,Qe4,Rf1,Kg8', 'Rxf8+,Rxf8,Qxg7#', 'https://lichess.org/training/p1j2g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1jgg', 'Rapid', 'PauloHJacinto', 863, 'shomeisdaking', 900, 'g4,e5,Bg2,Nc6,c3,Nf6,f3,Bc5,d4,Nxd4,cxd4,Bxd4,e3,Bb6,Qb3,e4,g5,Nh5,f4,d5,Nc3,Be6,Bh3,f5,Nge2,Ke7,Qb4+,Kd7,Nd4,c5,Qb5+,Kd6,Nxe6,Kxe6,Rg1,Rc8,g6', 'Qh4+,Kd2,Qxh3', 'https://lichess.org/training/p1jgg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1K9I', 'Blitz', 'muhammadrizkyakhbar', 2279, 'widy', 2150, 'Nf3,d5,d4,c6,Bf4,Bf5,e3,Nd7,Bd3,Bg6,h4,Ngf6,Ne5,e6,Nxg6,hxg6,Nd2,Be7,Nf3,Qa5+,c3,Qb6,Qe2,O-O-O,Ne5,Nxe5,Bxe5,Ne8,Bg3,g5,h5,Bd6,Bxd6,Nxd6,b4,f5,a4,Rdf8,a5,Qc7,Kd2,f4,Kc2,Nb5,exf4,Rxf4,Qxe6+,Kb8,f3,Rxd4,Rhe1,Rc8,Bf5,Rd8,Qe7,Rf4,Qxc7+,Kxc7,Bg6,g4,fxg4,Rxg4,Re7+,Rd7', 'Rxd7+,Kxd7,Bf5+,Kd8,Bxg4', 'https://lichess.org/training/p1K9I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P1kUp', 'Rapid', 'wandankf', 1950, 'nvem12345', 2074, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Bd3,Bd6,Nge2,Nbd7,O-O,Bxh2+,Kxh2,Ng4+,Kg3,f5,f3,Ndf6,fxg4,Nxg4,Nf4,Qg5,Kf3,Nh2+,Ke2,Qg4+,Kd2,Nxf1+,Qxf1,g5,Nh3,f4,Kc2,Rf8,exf4,gxf4,Bxh7,f3,Nf2', 'fxg2,Qg1,Rxf2+', 'https://lichess.org/training/P1kUp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P1mLy', 'Rapid', 'jimakos121', 1765, 'nicolassz', 1825, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,e4,d6,Nf3,Bg4,Be2,Nbd7,h3,Bxf3,Bxf3,e5,d5,h6,Bxf6,Bxf6,b4,Nb6,Be2,c5,b5,Bg7,a4,a5,O-O,Qg5,Bd3,Qh4,Ne2,Nd7,f4,exf4,Ra2,g5,Qe1,Qxe1,Rxe1,Ne5,Rd1,b6,Kh2,Rfe8,Ng1,Nxd3,Rxd3,Rxe4,Rc2,Rae8,Nf3,f5,g4,fxg4,hxg4,Re2+,Rxe2,Rxe2+,Kh3,Ra2,Rd2,Rxa4,Re2,Rxc4,Re6,Rb4,Rxd6,Rxb5,Rc6,a4,d6,Kf8,Rc8+,Kf7,d7,Bf6,Ne5+,Ke6,Re8+,Kd6,Rf8,Ke7,Rxf6,c4,d8=Q+,Kxd8,Nxc4,Rb4,Nxb6,Rb3+,Kg2,a3,Nc4,a2,Ra6,Rc3,Ne5,Rc2+,Kf3,Kc7,Nd3,Kb7,Ra3,Kb6,Nb4', 'Rc3+,Rxc3,a1=Q', 'https://lichess.org/training/P1mLy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P1ms1', 'Blitz', 'softice4', 1781, 'bistecito', 1906, 'e4,e5,Bc4,Nf6,Bxf7+,Kxf7,f4,exf4,Nf3,d6,c3,Nxe4,d3,Ng5,Nxg5+,Qxg5,O-O,Bh3,Rxf4+,Kg6,Rf2,Bg4,Qc2,Qe7,d4+,Kh5,Rf5+,Bxf5,Qxf5+,g5,g4+,Kh6,Bd2,Bg7,Na3,Rf8,Qd3,Qf6', 'Qh3+,Kg6,Qh5#', 'https://lichess.org/training/P1ms1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1nEz', 'Rapid', 'm4rcio1227', 1752, 'Lucassherlock', 1778, 'd4,Nf6,Bf4,g6,Nf3,Bg7,e3,O-O,Nbd2,d6,c4,c5,Bd3,cxd4,exd4,Re8,O-O,Nh5,Bg3,Nxg3,fxg3,e5,dxe5,dxe5,Be4,Nc6,Re1,Bg4,Qb3,Nd4,Nxd4,exd4,Rf1,Rb8,c5,Re7,Rae1,Be6,Qf3,a6,b3,Rc7,Rf2,Rxc5,Bxb7,Rf5,Qe4,Rxf2,Kxf2,Qf6+,Kg1,Qg5,Nf3,Qc5,Bxa6,Bd5,Qd3,Bxf3,gxf3,Qc3,Rd1,Ra8,Qc4,Qxf3,Rf1,Qe3+,Kg2,Qe4+,Kh3,Qe6+,Qxe6,fxe6,Bc4,Rd8,Bxe6+,Kh8,Rd1,d3,Bc4,d2,a4,Bc3,Kg2,Kg7,h4,h5,Be2,Re8,Kf2,Kf6,Rf1,Ke5,Bd3', 'Rf8+,Ke2,Rxf1', 'https://lichess.org/training/p1nEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1oIk', 'Rapid', 'MrCrankypawn', 1845, 'ashish9', 1930, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,Be3,Qxd4,Bxd4,f6,Nc3,c6,Bd3,Bb4,a3,Ba5,b4,Bc7,O-O,Ne7,Rfe1,Ng6,e5,fxe5,Bxg6+,hxg6,Bxe5,Bxe5,Rxe5+,Kf7,Rae1,d5,Ne2,Bf5,Nd4,Rhe8,Rxe8,Rxe8,Rxe8,Kxe8,Nxf5,gxf5,f4,Ke7,h4,Kd6,Kf2,g6,Ke3,c5,c3,cxb4,cxb4,b5', 'Kd4,Kc6,Ke5,d4,Kxd4', 'https://lichess.org/training/p1oIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1pPe', 'Classical', 'Nimrod-SepCo', 1824, 'Bulaibu', 1876, 'e4,e5,Nf3,Nc6,a3,Nf6,Nc3,Bc5,Bc4,d6,h3,Nd4,Ng5,O-O,O-O,c6,d3,a6,Kh1,b5,Ba2,a5,f4,exf4,Bxf4,h6,Nxf7,Rxf7,e5,dxe5,Bxe5,Be6,Bxf6,gxf6,Bxe6,Nxe6,Qh5,Kg7,Rf3,Bd4,Rg3+,Kf8,Ne4,Raa7,c3,Bb6,d4,Rh7,Rf1,Raf7,Qg6,Rhg7,Qxh6,f5,Qxe6,fxe4,Rxf7+,Rxf7,Qh6+,Ke8', 'Rg8+,Kd7,Rxd8+', 'https://lichess.org/training/p1pPe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1qiO', 'Rapid', 'Tasos82', 1781, 'lw167', 1784, 'e4,e5,Bc4,Nf6,d3,Bc5,Ne2,h6,O-O,O-O,Be3,Bd6,Nbc3,a6,Qd2,b5,Bb3,Nc6,a3,Nd4,Bxd4,exd4,Nxd4,c5,Nde2,Bxh2+,Kh1,Ng4,g3,d6,f3,Bxg3,Nxg3', 'Qh4+,Kg1,Qxg3+', 'https://lichess.org/training/p1qiO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1QyX', 'Blitz', 'MATEUS-SILVA', 1767, 'VBazzaneze', 1827, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Be3,e6,Be2,Be7,O-O,O-O,Qd2,Bd7,h3,a6,f4,e5,fxe5,Nxe5,Rad1,b5,a3,Nc4,Bxc4,bxc4,Nf5,Bxf5,Rxf5,Qd7,Bg5,h6,Bxf6,Bxf6,Qxd6,Qxd6,Rxd6,Rfe8,Rc6,Bxc3,bxc3,Rxe4,Kf2,Rae8,Rxa6,Re2+,Kg1,Rxc2,Ra7,f6,Rf3,Re1+,Kh2,Ree2,Rg3,g5,Ra6,Rf2,a4,h5,h4,g4,a5,Rf1,Rc6,Rcc1,Re3,Rh1+,Kg3,f5,Re8+,Kf7,Rh8,Rhf1,Rxc4,Rcd1,Rxh5', 'Rd3+,Kh2,g3+,Kh3,Rh1#', 'https://lichess.org/training/p1QyX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P1REy', 'Rapid', 'ArthurKnight', 1853, 'Umpolung', 1886, 'd4,Nf6,e3,e6,Nf3,c5,c3,d5,a3,c4,b3,b5,a4,Bd7,axb5,Bxb5,bxc4,Bxc4,Bxc4,dxc4,Qa4+,Qd7,Qxc4,Bd6,h3,O-O,O-O,Rc8,Qd3,Nd5,Bd2,Nc6,Ng5,g6,Ne4,Qe7,Nxd6,Qxd6,Na3,Nce7,Nc4,Qc7,Ra3', 'Qxc4,Qxc4,Rxc4', 'https://lichess.org/training/P1REy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P1TCp', 'Rapid', 'rjg', 1974, 'natik1069', 1906, 'd4,d5,e3,c6,c4,Nf6,Nc3,e6,Qb3,Qc7,cxd5,exd5,Be2,Bd6,h3,O-O,Nf3,Bf5,O-O,Nbd7,Nh4,Be6,Bf3,Rfe8,Qc2,g6,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bd3,Bd5,Bg5,Ne4,Rfe1,Nxg5,Nxg6,hxg6,Bxg6,Nf3+,gxf3,Bxf3,Qf5,Bh2+,Kf1,Be2+,Rxe2,Rxe2,Kxe2,Re8+,Kf1,Qe7,Bh7+,Kf8,Qf3,Qg5,Qg2', 'Qb5+,Bd3,Qxd3#', 'https://lichess.org/training/P1TCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P1tUQ', 'Rapid', 'JackVox', 2084, 'LANTHERN1', 2103, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Nd7,O-O,Ne7,Bg5,Qb6,b3,h6,Be3,Nf5,a4,a5,c4,Qa6,Nbd2,Bb4,Rfc1,O-O,Qf1,Nxe3,fxe3,dxc4,Nxc4,Nb6,Rc2,Nxc4,bxc4,b6,h3,Qb7,Nh2,c5,Ng4,cxd4,exd4,Qe4,Rd1,Rad8,Qf2,Rxd4', 'Rxd4,Qxd4,Qxd4', 'https://lichess.org/training/P1tUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1V6U', 'Blitz', 'Basty79', 1933, 'Lukaskeyn', 1961, 'e4,e6,d4,d5,e5,Bd7,Nf3,c5,c3,Qb6,Bd3,Bb5,O-O,Bxd3,Qxd3,c4,Qc2,Ne7,b3,cxb3,axb3,Ng6,g3,h5,h4,Be7,c4,dxc4,bxc4,Nd7,Nbd2,Qc6,Qd3,O-O-O,Rxa7,Nb6,Ba3,Kb8,Bxe7,Nxe7,Rfa1,Nf5,c5,Nd5,Qb3,Nc7,Ng5,Rxd4,Nxf7,Nxh4,gxh4,Rf8,Nd6', 'Rg4+,Qg3,Rxg3+,fxg3,Qxc5+', 'https://lichess.org/training/p1V6U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P1WsI', 'Blitz', 'MOiSTRussian', 1647, 'calient', 1620, 'c4,b5,cxb5,Bb7,d4,g6,Nc3,Bg7,e4,d6,Nf3,Nd7,Be2,e6,O-O,Ne7,Bg5,O-O,Qd2,c6,bxc6,Bxc6,Rac1,Re8,Bh6,Qb6,Bxg7,Kxg7,d5,exd5,exd5,Bb7,Rfe1,Nf6,Bc4,Rac8,b3,a5,Na4,Qb4,Qf4,Nfxd5,Qd4+,Kg8,Bxd5,Rxc1,Bxf7+,Kxf7,Rxc1,Qa3,Ng5+,Kg8,Rc2,Nf5,Qc4+,d5,Qc3,Rc8,Qf6', 'Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/P1WsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P1YmV', 'Blitz', 'farhadoshirin', 1603, 'jbaum012', 1557, 'd4,d5,c4,Nf6,Nf3,e6,Nc3,Be7,e3,O-O,Bd3,b6,O-O,Bb7,cxd5,Nxd5,Ne2,Nf6,a3,Bxf3,gxf3,Qc8,b4,Nbd7,Bb2,a5,b5,c5,bxc6,Qxc6,e4,Rac8,Rc1,Qb7,Qb3,Nh5,Rxc8,Rxc8,Rc1,Rxc1+,Nxc1,Nf4,Bf1,h6,Qc3,Nf6,Ne2,N6h5,Ng3,Nxg3,fxg3,Ng6,Kf2,b5,Qxa5,e5,Qxb5,Qa7,Qe8+,Bf8,a4,exd4,Ba3,d3+,Kg2,d2,Be2,Qe3,Bd1,Qe1,Bb3,d1=Q', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/P1YmV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P1YVs', 'Rapid', 'lablarry', 1635, 'Dwelm', 1609, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Nc6,Nf3,Ne4,O-O,Bg4,Be2,e6,h3,Bh5,Nc3,Nxc3,bxc3,Bxf3,Bxf3,Qh4,Qa4,O-O-O,Bxc6,bxc6,Qxc6,Bd6,Qa8+,Kd7,Qxa7,g5,Ba3,Bxa3,Qxa3,g4,Qa4+,Ke7,Qb4+,Rd6,a4,gxh3,g3,Rg8,Kh2,Qh5,Rg1,Kf6,e4,Rb6,Qc4,Rb2,e5+,Kg7,Qf1,Kh8,Re1,f5,exf6,Qf3,f7', 'Rxf2+,Qxf2,Qxf2+', 'https://lichess.org/training/P1YVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p1ZTw', 'Classical', 'RowanB1986', 1699, 'EgilJ', 1711, 'e4,Nf6,d3,e5,Nf3,Nc6,Bg5,Be7,Be2,O-O,O-O,d5,exd5,Nxd5,Bxe7,Qxe7,Re1,Nf4,Nc3,Nxe2+,Rxe2,Bg4,Re4,f5,Rc4,Nd4,Nd5,Qd6,Nxc7,Rac8,c3,Nxf3+,gxf3,Bh3,Qb3,Kh8,Kh1,Rxc7,Rh4,Qxd3,Rxh3,Rd7,Qb4,Rfd8,Qh4,h6,Rg1,f4,Qh5,Qd6,b3,Qf6,Rg6,Qf7,Rh4,Rd6,Rhg4,Rxg6,Rxg6,Rd6', 'Rxh6+,Rxh6,Qxf7', 'https://lichess.org/training/p1ZTw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P216N', 'Rapid', 'aggravate', 1740, 'xyz2006', 1723, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,Nf6,Nc3,Bc5,Bc4,O-O,Nf3,d6,O-O,Bg4,h3,Bh5,Re1,Na5,Bd5,c6,Bb3,Nxb3,cxb3,Qb6,Be3,Bxe3,Rxe3,Rfe8,Qxd6,Bxf3,gxf3,Rad8,Qf4,Rd2,Re2,Rd3,Rd1,Rxd1+,Nxd1,Qb5,Rd2,Nh5,Qg4,Nf6,Qf4,Nh5,Qc7', 'Qg5+,Kh2,Qxd2', 'https://lichess.org/training/P216N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P230m', 'Blitz', 'ChesserTurtle', 1833, 'Rafaieka', 1794, 'e4,e5,c3,f5,d4,fxe4,Nd2,exd4', 'Qh5+,g6,Qe5+,Qe7,Qxh8', 'https://lichess.org/training/P230m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p27Nt', 'Rapid', 'Sanders-kit', 1587, 'Nightmare_8', 1581, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qxe4+,Qe2,Qxe2+,Kxe2,Bc5,d4,Bb6,Re1,O-O,Kf1,Bf5,c3,c5,Bg5,Ne4,dxc5,Bxc5,b4,Nxg5,Nxg5,Bd3+,Kg1,Bb6,Nd2,Rad8,Ndf3,h6,Nh3,Rde8,Nf4,Rxe1+,Rxe1,Bc4,a4,a5,Re4,Rd8,h3,Bd5,Nxd5,Rxd5,c4', 'Rd1+,Re1,Rxe1+,Nxe1,axb4', 'https://lichess.org/training/p27Nt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P27pw', 'Blitz', 'ChessStudies89', 2258, 'Daviz5', 2031, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,d6,Bb5,Bd7,Bxc6,bxc6,O-O,Be7,Qd3,O-O,h3,h6,Be3,Re8,Rad1,c5,Nf5,Bxf5,exf5,c6,b3,d5,Bf4,Bd6,Ne2,Ne4,c4,d4,Rfe1,Qh4,Bxd6,Qxf2+,Kh1,Nxd6,Rf1,Qxe2,Qg3,Ne4,Qh4,Nc3,Rde1,Qxa2,f6,Rxe1,Rxe1,d3,Qg3,g6,Qxd3,Qa5,Qd2,Kh7,Re7,Rf8,Re3,Qa1+,Re1,Nb1,Qd6,Kg8,Rd1,Qb2', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/P27pw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p2a6X', 'Classical', 'Dominant25', 1762, 'alesha1903207', 1828, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d3,Nf6,g3,e6,Bg2,Be7,Nge2,Nc6,O-O,O-O,Ne4,Nxe4,Bxe4,Bd7,b3,Bd6,c4,Ne5,d4,Ng4,Bf4,f5,Bxd6,cxd6,Bg2,e5,dxe5,dxe5,Bxb7,Rb8,Bg2,Qc7,Qd2,Bc6,Nc3,Bxg2,Kxg2,f4,Qe2', 'f3+,Qxf3,Rxf3', 'https://lichess.org/training/p2a6X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p2CLH', 'Rapid', 'checkitymate', 1855, 'esputerbabe81', 1832, 'd4,e6,Nf3,c5,Bf4,cxd4,Nxd4,Nc6,Nxc6,bxc6,e3,Bb7,Nd2,Rc8,Nf3,Nf6,Bd3,h6,h3,g5,Bh2,g4,hxg4,Nxg4,Bg3,Rg8,Bh4,Nf6,Ne5', 'Qa5+,Qd2,Qxe5', 'https://lichess.org/training/p2CLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P2F9p', 'Classical', 'acaero', 1601, 'Aroh9', 1707, 'e4,c5,Nf3,Nc6,Bc4,d6,d4,cxd4,Nxd4,a6,O-O,Nf6,Nc3,g6,Bg5,Bg7,Nxc6,bxc6,Qf3,O-O,Rfe1,e5,Rad1,Bg4,Bxf6,Bxf3,Bxd8,Bxd1,Be7,Rfe8,Rxd1,Rxe7,Rxd6,Rb8,b3,a5,Rxc6,Rd7,Bb5', 'Rxb5,Rc8+,Bf8', 'https://lichess.org/training/P2F9p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P2iUj', 'Rapid', 'siroos1342', 1770, 'ubode', 1786, 'c4,c6,d3,d5,cxd5,cxd5,Nf3,Nc6,e3,g6,Be2,Bg7,O-O,e5,a3,Bg4,Nbd2,Nf6,Nb3,e4,dxe4,dxe4,Nfd4,Bxe2,Nxe2,O-O,Qc2,Re8,Ng3,Rc8,Qe2,Qd3,Nc5,Qxe2,Nxe2,b6,Nb3,Red8,Bd2,h5,Bc3,h4,h3,Nd5,Bxg7,Kxg7,Rfd1,g5,Nbd4,Na5,Nf5+,Kg6', 'Rxd5,Rxd5,Ne7+', 'https://lichess.org/training/P2iUj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P2mSs', 'Rapid', 'Blischnegg', 1896, 'SamFF', 1660, 'd4,d5,Bf4,Nc6,e3,Nf6,h3,a6,c4,Bf5,Nf3,e6,a3,Bd6,Bxd6,Qxd6,c5,Qd8,Nc3,O-O,Bd3,Ne4,O-O,Bg6,Nh4,Nxc3,bxc3,Qxh4,Be2,e5,Rb1,Bxb1,Qxb1,Rab8,Kh2,e4,f3,f5,f4,Qd8,c4,Na5,cxd5,Qxd5,Qb4,b6,cxb6,Rxb6,Qc3,Rc6,Qb4,Rc2,Re1,Nc6,Qb1,Qa2', 'Qxa2+,Rxa2,Bc4+,Kh8,Bxa2', 'https://lichess.org/training/P2mSs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p2pJx', 'Blitz', 'sinfex69', 1550, 'Skaurus', 1585, 'e3,c6,Nf3,d5,d4,Bf5,b3,e6,Bb2,Nd7,Nbd2,Bd6,Ne5,Qc7,f4,Rd8,Bd3,Bxd3,cxd3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/p2pJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P2PNG', 'Rapid', 'BlackBranca', 2129, 'zoslen', 2178, 'e4,c6,Nf3,d5,Nc3,Bg4,d4,e6,h3,Bxf3,Qxf3,Nf6,e5,Nfd7,Nd1,c5,c3,Nc6,Qd3,Qb6,Be3,cxd4,cxd4,Nb4,Qb3,Rc8,Nc3,Be7,a3', 'Nd3+,Bxd3,Qxb3', 'https://lichess.org/training/P2PNG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P2QFl', 'Blitz', 'Arasay', 1734, 'GoktugK26', 1734, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d3,O-O,c3,Bb6,a4,d6,b4,a5,b5,Ne7,Re1,Ng6,Qb3,Bg4,Nfd2,Nh5,h3,Qf6,Rf1,Bxh3,gxh3,Ngf4,Kh2,Kh8,d4,Nxh3,Kxh3,Nf4+,Kh2,exd4,cxd4,Ne2,Bxe2,Bxd4,Ra2,Be5+,Kg2,Qg5+,Kf3,Qf4+,Kg2,Qg5+,Kf3', 'Qf4+,Kg2,Qh2+,Kf3,Qh3#', 'https://lichess.org/training/P2QFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P2TsI', 'Bullet', 'grasshopper', 1910, 'RockStrongo', 1918, 'e4,e5,c3,Nf6,d4,Nxe4,Qe2,d5,f3,Ng5,f4,Ne6,fxe5,Be7,Nf3,O-O,Be3,Ng5,Nbd2,Nxf3+,Nxf3,Bg4,h3,Bxf3,gxf3,Bg5,f4,Bh4+,Kd2,Nd7,Bg2,c6,Rag1,Nb6,b3,f6,Kc2,fxe5,fxe5,Qd7,Bf3', 'Qf5+,Kd2,Qxf3,Qxf3,Rxf3', 'https://lichess.org/training/P2TsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P2u2g', 'Rapid', 'alethossanchez777', 1921, 'shariati', 1773, 'd4,d5,c4,c6,Nc3,Nf6,e3,g6,Nf3,Bg7,cxd5,cxd5,Bb5+,Nc6,Ne5,Bd7,Qa4,Rc8,Bxc6,Bxc6,Nxc6,bxc6,Qxa7,O-O,O-O,Ra8,Qc5,Qc7,Bd2,Rfb8,b4,Nd7,Qxe7', 'Bf6,Qxf6,Nxf6', 'https://lichess.org/training/P2u2g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p2Uff', 'Blitz', 'Abdirizak', 1696, 'Grzybiarz85', 1690, 'e4,b6,d4,Bb7,d5,e6,c4,Qe7,Nf3,Nf6,Bd3,exd5,cxd5,Nxd5,O-O,Nb4,Be2,N8c6,a3,Na6,Nc3,O-O-O,Nd5,Qxe4,b4,Nab8,a4,Nxb4,Nxb4,Qxb4,Bd2,Qe4,Re1,Qc6,a5,Bd6,axb6,axb6,Bd3,Rde8,Qb3,f6,Rec1,Qd5,Bc4,Qe4,Re1,Qg6,Bd5,Nc6,Rac1,Rxe1+,Rxe1,Re8,Rxe8+,Qxe8,g3,Qe2,Be3,Ba6,Qb1,Nb4,Be4,f5,Nd4,Qh5,Bxf5,Nd5,Qa2,Bb7,Bd3,Nxe3', 'Qg8+,Bf8,Qxf8+,Qe8,Qxe8#', 'https://lichess.org/training/p2Uff');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P2z3u', 'Rapid', 'vinay710', 1669, 'Talashika', 1682, 'e4,d6,Bc4,Nf6,Nc3,g6,Nf3,Bg7,h3,O-O,d3,c5,Bg5,a6,Qd2,b5,Bd5,Nxd5,exd5,Bb7,O-O-O,b4,Ne2,Bxd5,Bh6,Bxa2,Bxg7,Kxg7,c3,Bb3,Rde1,Qa5,Qf4,Qa1+,Kd2,Qxb2+,Ke3,bxc3,Rb1,Qa3,Qe4,c4,Qxa8,Qc5+,Ned4,e5,Qe4,exd4+,Nxd4,Nc6,dxc4,Bxc4,Rbd1,d5,Qh4,Re8+,Kf3,Ne5+,Kg3,Qd6,f4,Nd3,Qg5,Re3+,Kh2,Kh8,Nf3,Nxf4,Kg1,Ne2+,Kf2,c2,Qxe3,cxd1=Q,Rxd1,Kg7,Rd2,Nf4,Qc3+,f6', 'Qxc4,dxc4,Rxd6', 'https://lichess.org/training/P2z3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P2Zyy', 'Blitz', 'bhirghu', 1888, 'JohnnyJohnny', 1638, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,a6,Be2,Be7,O-O,Be6,Kh1,O-O,f4,exf4,Bxf4,Nc6,Qe1,Ne5,Rd1,Qc7,Qg3,Kh8,Nd4,Qc8,Bxe5,dxe5,Qxe5,Re8,Qg3,Bc4,Bf3,Bxf1,Rxf1,b5,Nf5,g6,Nxe7,Rxe7,Nd5,Nxd5,exd5,Rb8,Bg4,Qxc2,d6,Ree8,h3,Red8,Rxf7,Qxb2,Qh4,h5,Qe7,Re8', 'Rh7+,Kg8,Qf7#', 'https://lichess.org/training/P2Zyy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p33jr', 'Rapid', 'fisgon', 1754, 'SherlockHH', 1734, 'c4,Nf6,e3,e5,Ne2,d5,cxd5,Qxd5,Nbc3,Qd6,a3,Be7,Ng3,O-O,Be2,b6,O-O,Bb7,e4,a6,Nf5,Qd8,Qc2,Nc6,Nd5,Nxd5,exd5,Qxd5,Bf3,Qe6,b4,g6,Nh6+,Kg7,d4,Nxd4,Qd3,Nxf3+,gxf3,Qh3,Ng4,e4,Qc3+,Kg8', 'Nh6+,Qxh6,Bxh6', 'https://lichess.org/training/p33jr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P37PQ', 'Classical', 'thecrab', 1672, 'ConQueso', 1718, 'e4,e6,Nf3,d5,exd5,exd5,d4,c5,dxc5,Bxc5,Nc3,Nf6,Bg5,Qb6,Bxf6', 'Bxf2+,Kd2,Qe3#', 'https://lichess.org/training/P37PQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P3AdR', 'Blitz', 'hosampopchees', 2099, 'mamintov', 2028, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,c6,d4,Bf5,Be3,e6,Be2,Nd7,O-O,Be7,h3,h6,a4,a5,Bc4,Ngf6,Ne2,O-O,Ng3,Bh7,Re1,Nd5,c3,Qb6,Qd2,Nxe3,Rxe3,Rfd8,Rae1,Bf8,Qc1,Nf6,Ne5,Nd5,Rf3,f6,Ng4,c5,dxc5,Bxc5,Nh5,Rf8,Qd2,Rad8,Ba2,Kh8,Nxh6,gxh6,Qxh6,Rg8,Rxf6,Nxf6', 'Qxf6+,Rg7,Qxg7#', 'https://lichess.org/training/P3AdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P3ANN', 'Rapid', 'vijay10', 1673, 'Elpho', 1688, 'e4,e5,Bc4,d6,Nf3,Bg4,Be2,Nf6,d3,Be7,Ng5,Bxe2,Qxe2,O-O,Nc3,Nfd7,Nf3,Nc6,h4,Nf6,Bg5,h6,Bxf6,Bxf6,g4,Nd4,g5,Nxe2,Nxe2,Bxg5,hxg5,c5,gxh6,gxh6,O-O-O,Kg7,Rdg1+,Kh7,Ng5+,Kh8,Rxh6+,Kg7,Rh5,Kf6,Rh6+,Ke7,Nh7,Rg8,Ng3,Rh8', 'Nf5+,Kd7,Rxd6+,Kc7,Rxd8', 'https://lichess.org/training/P3ANN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P3aUX', 'Blitz', 'Gigantus54', 1619, 'pro100leha', 1635, 'e4,d5,e5,c5,Nf3,Bg4,Bb5+,Nc6,O-O,Qb6,Bxc6+,Qxc6,h3,Bh5,g4,Bg6,Nh4,a6,Nxg6,Qxg6,d3,h5,Kh2,hxg4,Rg1,Rxh3+,Kg2,e6,Bf4,Ne7,Rh1,Qh5,Nd2,Nf5,Rxh3,Qxh3+,Kg1,Nh4,Qf1,Nf3+,Nxf3,Qxf3,Bg3,O-O-O,c4,f6,exf6,gxf6,Re1,Re8,Re3,Qf5,cxd5,Qxd5,a3,Bd6,Bxd6,Qxd6,Qd1,Rh8,Rg3,f5,b4,c4,d4,Rh3,Rxh3,gxh3,Qh5,Qxd4,Qe8+,Kc7,Qf7+,Qd7,Qh5,c3,Qe2,c2,Qc4+,Qc6,Qf4+,Kb6,Qd4+,Kc7,Qf4+,Kc8,Qc1,Qc3,Kh2,e5,f3,Qxf3,Qxc2+,Kb8,b5,e4,Qb2,Ka7,Qd4+,Ka8', 'Qd8+,Ka7,b6#', 'https://lichess.org/training/P3aUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p3d6H', 'Rapid', 'CrazyMadMax4', 2278, 'ars54321', 2333, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,O-O,Nc2,Rb8,Nce3,Bg5,h4,Bxe3,Nxe3,Be6,a4,Ne7,axb5,axb5,Be2,d5,exd5,Nxd5,Nxd5,Bxd5,O-O,Bc6,h5,Qg5,Bg4,f5,Bh3,Rbd8,Qb3+,Kh8,Qe6,Bd5,Qxe5,Bc4,Rfd1,Rxd1+,Rxd1,Qxh5,Rd7,Qg6,Bxf5', 'Rxf5,Rd8+,Bg8', 'https://lichess.org/training/p3d6H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P3EVh', 'Blitz', 'aspassky', 1917, 'demon_of_panic', 1664, 'e4,c6,d4,d5,exd5,cxd5,Bf4,Nc6,c3,Bf5,Bd3,Bg6,Nf3,Qb6,Bxg6,hxg6,Qe2,e6,O-O,Nf6,Na3,a6,Ng5,Nh5,Nxe6,fxe6,Qxe6+,Be7,Qxg6+,Kd7,Qf5+,Ke8,Bg5,Bxg5,Qxg5,Kd7,Qxd5+,Kc7,Nc4,Qb5,Qf7+,Kb8,Nd6,Ka7,Nxb5+,axb5,a4,Raf8,Qb3,Nf4,axb5+,Kb8,bxc6', 'Ne2+,Kh1,Rxh2+,Kxh2,Rh8#', 'https://lichess.org/training/P3EVh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p3FM9', 'Rapid', 'ferdigrasspriet', 1921, 'vi35vi', 2057, 'Nf3,d5,d4,Nf6,e3,e6,c4,Be7,a3,Nbd7,Nc3,O-O,h3,c5,Qc2,cxd4,exd4,Nb6,c5,Nbd7,Bf4,a6,b4,Nb8,Bd3,Nc6,Be5,Nxe5,dxe5,Nd7,Bxh7+,Kh8,Bd3,Qc7,Qe2,b6,Na4,bxc5,Rc1,c4,Bc2,Nb6,Nc3,Bb7,Ng5,Bxg5,Qh5+,Bh6,g4,Qe7,h4,f6,g5,fxg5,Qg6,Rf5,Bxf5,exf5,hxg5,Qxe5+,Ne2,Re8,Rc2,Qa1+,Kd2,Rxe2+,Kxe2,Qxh1', 'Qe8+,Kh7,g6#', 'https://lichess.org/training/p3FM9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p3gpX', 'Classical', 'era1990', 1671, 'TroggNoStupid', 1791, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Nc3,Qe6+,Be2,Bxf3,gxf3,O-O-O,d5,Qf5,Be3,Nf6', 'Bd3,Qd7,dxc6', 'https://lichess.org/training/p3gpX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p3HLq', 'Blitz', 'ibrahimlee2', 1548, 'Aristomachos', 1945, 'Nf3,Nf6,d4,e6,c4,c5,g3,Ne4,d5,f5,Bg2,Qa5+,Nbd2,Nd6,O-O,Be7,e4,fxe4,Ne5,O-O,Nxe4,Nxe4,Bxe4,d6,Qh5,dxe5,Qxh7+,Kf7,Bg6+,Kf6,Bg5+,Kxg5,h4+,Kf6,f4,exd5,fxe5+,Ke6,Qxg7,Rxf1+,Rxf1,Kd7,Rf8,Qe1+,Kh2,Qd2+,Kg1,Nc6,Be8+,Kc7,Rf7,Bh3,Rxe7+,Nxe7,Qxe7+,Kb6', 'Qd6+,Ka5,Qxc5+,b5,Qxb5#', 'https://lichess.org/training/p3HLq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p3hnk', 'Classical', 'Karpov_magnus', 1828, 'ChrisFC', 1606, 'e4,g6,d4,Bg7,Be3,d6,e5,c5,dxc5,Bxe5,cxd6,exd6,c3,Nc6,Bb5,Bd7,Ne2,Nge7,O-O,O-O,f4,Bg7,Bd4,Nf5,Bxg7,Nxg7,Bxc6,Bxc6,Nd4,Qb6,a4,Qxb2,Nd2,Qxc3,N2b3,Qe3+,Kh1,Qe4,Nxc6,Qxc6,Nd4,Qc8,Qd3,Nf5,Nxf5,Qxf5,Qxf5,gxf5,Rf3,Kg7,Rd1,Rad8,Rb3,b6,a5,Rfe8,axb6,axb6,Rxb6,d5,h3,Re4,Rb5,Rxf4,Rbxd5,Rxd5,Rxd5,Kg6,Kh2,Re4,Kg3,h5,Kf3,Kg5,g3,Ra4,h4+,Kg6,Rd8,Kg7,Rd5,Kg6,Rd8,Rb4,Rg8+,Kh6,Rg5,Rb1,Rxf5,Rf1+,Ke4,Rg1,Rf3,Kg6,Kf4,Rb1,Re3,Rf1+,Ke4,Rf6,Rf3,Rxf3,Kxf3,Kf5,Kg2,Kg4,Kf2,Kh3', 'Kf3,f5,Kf4,Kg2,Kxf5', 'https://lichess.org/training/p3hnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P3IdH', 'Blitz', 'Kvik', 1749, 'qarachoban', 1752, 'd4,d6,e4,Nd7,Nc3,g6,Be3,Bg7,Qd2,b6,O-O-O,Bb7,f4,Ngf6,Nf3,Nxe4,Nxe4,Bxe4,Ng5,Bf5,h3,h6,g4,Bxg4,hxg4,hxg5,Rxh8+,Bxh8,Qh2,Bg7,Qh7,Kf8,fxg5,c5,Bg2,Rb8,Rf1,cxd4,Qxg6,Ne5,Qf5,dxe3,Bd5,Qe8,g6,e2,Re1,Nxg6,Rxe2,Ne5,Rf2,Rc8,g5,Kg8,g6,e6,gxf7+,Nxf7,Bxe6,Rc7,Qg6,Kh8,Kd1,Re7,Bxf7', 'Re1+,Kd2,Qe3#', 'https://lichess.org/training/P3IdH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P3J1a', 'Classical', 'sinchees60', 1806, 'Ttchamp', 1766, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,a6,Ba4,b5,Bb3,d6,O-O,Nf6,d4,exd4,cxd4,Bb6,Bg5,h6,Bh4,g5,Bg3,Nxe4,Re1,d5,Nc3,O-O,Nxe4,dxe4,Rxe4,Bb7,d5,Na5,Bc2,Bxd5,Re5,c6,Qd3,f5,Rxf5,Qe7,Re1,Qd7,Rxf8+,Rxf8,Be5,Qf7,Bc3,Nb7,Ne5', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/P3J1a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p3j6T', 'Rapid', 'muratbgrgn', 1650, 'ausie', 1733, 'e4,e5,Nf3,d6,Bc4,h6,c3,Nf6,d3,a6,O-O,b5,Bb3,c5,Nbd2,Nbd7,a4,Bb7,h3,Nb6,axb5,axb5,Rxa8,Qxa8,Nh2,d5,exd5,Nfxd5,Re1,Bd6,Ndf3,O-O,Nxe5,Re8,Bf4,Nxf4,Bxf7+,Kh8', 'Ng6+,Nxg6,Rxe8+,Qxe8,Bxe8', 'https://lichess.org/training/p3j6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P3Jhy', 'Bullet', 'go_sha', 1716, 'Tec9', 1805, 'e4,c5,Nc3,Nc6,Nf3,d6,Bc4,Nf6,d3,Bg4,Bg5,Ne5,Bxf6,exf6,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/P3Jhy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P3lke', 'Rapid', 'shivayamanoj', 1990, 'deepak_reddy', 1900, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,d3,Be7,Re1,O-O,c3,Bg4,Nbd2,Ne8,Nf1,f5,h3,Bh5,exf5,Rxf5,Ng3,Bxf3,gxf3,Rf8,d4,Qd7,Kh2,exd4,cxd4,Qd8,Qe2,Nxd4', 'Qc4+,Rf7,Qxd4', 'https://lichess.org/training/P3lke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p3LM1', 'Rapid', 'stevan1000', 1844, 'Rocky111', 2046, 'c4,e6,Nc3,d5,cxd5,exd5,d4,Nf6,Bf4,Be7,Nf3,O-O,e3,c5,Bd3,Nc6,O-O,Bg4,h3,Bh5,g4,Bg6,Nh4,cxd4,exd4,Bxd3,Qxd3,Ne4,Nf5,Bf6,f3,Ng5,h4', 'Nh3+,Kh1,Nxf4', 'https://lichess.org/training/p3LM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P3lNj', 'Blitz', 'srcaradepapa', 2191, 'ImposterSpiderman', 2184, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Nf6,Nc3,Nxd5,d4,Nc6,Bc4,e6,Nxd5,exd5,Bb5', 'Qa5+,Bd2,Qxb5,Qe2+,Qxe2+', 'https://lichess.org/training/P3lNj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p3PBs', 'Rapid', 'Rio_Alfian', 2113, 'verdeckel', 2073, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,h6,Bf4,Nf6,Qd3,Be7,O-O-O,O-O,Nd4,Nd7,Nf5,Bg5,Bxg5,Qxg5+,Kb1,Nc5,Qd4,Nxe4,Nxh6+,Qxh6,Nxe4,Rfe8,Nc3,Bxg2,Rhg1,Bf3,Rd3,Bh5,Rdg3,Bg6,f4,c5,Qd5,Qh5,Rg5,Bxc2+,Kxc2,Qxh2+,R1g2,Qh7+,f5,Re5,Rxg7+,Qxg7,Rxg7+,Kxg7,f6+,Kxf6,Qxd6+,Re6,Ne4+,Kf5,Ng3+,Kg6,Qd3+,Kf6,Qf5+,Kg7,Nh5+,Kf8,Qxc5+,Kg8,a3', 'Rc6,Qxc6,bxc6', 'https://lichess.org/training/p3PBs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p3pYt', 'Classical', 'larrymcdarey', 1655, 'mohammadtabriz', 1638, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Qe7,d3,Nf6,O-O,O-O,a3,h6,b4,Bb6,Bb2,a6,Nd5,Qd8,Nxb6,cxb6,Nxe5,Nxe5,Bxe5,d6,Bf4,b5,Bb3,Ng4,h3,Nf6,Qf3,Be6,Qg3,Nh5,Qh2,Bxb3,cxb3,f5,Bxd6,Rf7,exf5,Rxf5,g4,Rg5,f4,Rg6,Bc5,Qxd3,Rad1,Qxb3,f5,Rg5,Be7', 'Qe3+,Qf2,Qxe7', 'https://lichess.org/training/p3pYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P3so6', 'Rapid', 'Chesswelder', 1782, 'kngurgel', 1547, 'Nc3,e5,e4,Nc6,f4,Nf6,Nf3,d6,Bc4,Bg4,O-O,h6,d4,exd4,Nd5,Nxd5,Bxd5,Be7,f5,O-O,h3,Bxf3,Qxf3,Ne5,Qg3,Bg5,Bxg5,hxg5,Rad1,c6,Bb3,c5,c3,dxc3,bxc3,Re8,f6,gxf6,h4,Kf8,h5,Ke7,h6,Rh8,h7,Rxh7,Qf2,Rh6,Qe2,Qh8,Qb5,Rb8,Qa5,a6', 'Qc7+,Kf8,Qxb8+,Kg7,Qxh8+', 'https://lichess.org/training/P3so6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p3UC8', 'Blitz', 'vltol', 1704, 'DoKie', 1661, 'e4,c5,Bc4,d6,Nc3,Nc6,Nf3,e6,d3,h6,a4,Nf6,O-O,Be7,h3,O-O,e5,dxe5,Re1,Qc7,Nb5,Qd8,Nxe5,Nxe5,Rxe5,a6,Nc3,Nd7,Rh5,Nf6,Re5,Qd6,Re1,Bd8,Ne2,Bc7,Bf4,e5,Bg3,Nh5,Nc3,Nxg3,fxg3,Be6,Ne4,Qd7,Ba2,Bb6,Qf3,Qd4+,Kf1,Qxb2,Reb1,Qxc2,Rxb6,Bxa2,Rxh6,f5,Ng5,e4', 'Rh8+,Kxh8,Qh5+,Kg8,Qh7#', 'https://lichess.org/training/p3UC8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P44CQ', 'Blitz', 'jrvdwjr', 1700, 'Lem0nHead', 1738, 'd4,d5,c4,Nf6,Nc3,Bf5,Nf3,e6,cxd5,Nxd5,e3,Nxc3,bxc3,Bd6,Bd3,Bxd3,Qxd3,O-O,O-O,Nd7,e4,c5,e5,Be7,h4,cxd4,cxd4,Nc5,Qc2,Na6,Ng5,Bxg5,hxg5,Qxd4,Bb2,Qf4,Qc1,Qg4,f4,Qe2,Rf2,Qb5,Qe3,Rfc8,f5,exf5,g6,hxg6,e6,Re8,exf7+,Kxf7,Qg5,Re2,Rxf5+,gxf5,Qxg7+,Ke6,Qf6+,Kd7,Rd1+,Ke8,Qg6+,Ke7,Bf6+,Ke6,Bg7+,Ke7,Bf6+,Ke6,Bg7+,Ke7', 'Qf6+,Ke8,Qf8#', 'https://lichess.org/training/P44CQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p459V', 'Rapid', 'gnatyuk', 1821, 'zoen', 1833, 'e4,e6,Nf3,c5,Nc3,a6,Bc4,Qc7,a3,Bd6,Bb3,Nf6,Qe2,Ng4,h3,Ne5,d3,Nbc6,Be3,b5,Rd1,Nxf3+,Qxf3,Nd4,Bxd4,cxd4,Ne2,Be5,Qg4,O-O,O-O,Bb7,f4,f5,exf5,Bf6,fxe6,dxe6,f5,Kh8,fxe6,Qc5,Nf4,Rae8,Nh5,Re7,Nxf6,gxf6,Rf4,Rg8,Qe2,Rxg2+,Qxg2,Bxg2,Kxg2,h5,Rdf1,Qg5+,Kh2,Qe5,Kh1,Qe3,Rxf6,Qxh3+,Kg1,Rg7+,Kf2,Rg2+,Ke1', 'Qe3+,Kd1,Qd2#', 'https://lichess.org/training/p459V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P46dw', 'Rapid', 'Larsbars', 1955, 'lslasam', 1964, 'd4,e6,Bf4,Nf6,Nf3,Be7,e3,O-O,Bd3,Nc6,c3,h6,Qc2,Nd5,Bg3,f5,Ne5,Nxe5,Bxe5,d6,Bg3,Bd7,Nd2,a5,Nf3,b5,O-O,Bc6,Nd2,Bg5,b3,f4,exf4,Nxf4,Bxf4,Bxf4,c4,Qg5,Be4,Bxe4,Nxe4,Qh5,Ng3,Qg5,cxb5,d5,Rae1,Rae8,Qc3,h5,Ne2,Bd2,Qxc7,Bxe1,Rxe1,Rf7,Qxa5,Ref8,Rf1,h4,h3,Qh5,Nc1', 'Rxf2,Rxf2,Qd1+,Kh2,Rxf2,Qd8+,Rf8', 'https://lichess.org/training/P46dw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P4a8U', 'Blitz', 'patterm', 1532, 'Beeast666', 1524, 'Nf3,Nc6,b3,e5,Bb2,d6,e3,f5,g3,Nf6,Nh4,Be6,Bg2,Qd7,d4,Bd5,Bxd5,Nxd5,Qh5+,g6,Nxg6,hxg6,Qxh8,O-O-O,Qh4,Bg7,dxe5,dxe5,Nc3,Rh8,Qc4,Nxc3,Bxc3,e4,Bxg7,Qxg7,O-O,Ne5,Qe6+,Kb8,Rad1,Qh6,h4', 'Nf3+,Kg2,Nxh4+,gxh4,Qxh4', 'https://lichess.org/training/P4a8U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P4B7I', 'Bullet', 'Yavar22', 1523, 'GVALENTIM', 1636, 'd4,g6,Bf4,Bg7,e3,Nf6,Nf3,d5,c3,Nc6,Bd3,Nh5,Bg3,Nxg3,fxg3,e5,Bc2,e4,Nfd2,Be6,O-O,f5,b3,Qe7,Qe2,h5,c4,g5,cxd5,Bxd5,Qb5,h4,Qxb7,hxg3,Qxa8+,Kd7,Qb7,Rxh2,Nc3,g4,Nxd5', 'Rh1+,Kxh1,Qh4+,Kg1,Qh2#', 'https://lichess.org/training/P4B7I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p4CfN', 'Rapid', 'SteelCrocs', 1743, 'hasanatur', 1741, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,O-O,a6,Ba4,b5,Bb3,Na5,d4,Nxb3,axb3,Bg4,d5,Rc8,h3,Bd7,Ne2,c6,c4,cxd5,cxd5,Nxe4,Ng3,Nxg3,fxg3,g6,Rxa6,Bf5,Ra7,Qb6+,Kh2,Qxa7,Re1,Bg7,Nd4,Rxc1,Qxc1,Qxd4,Qc6+,Bd7,Qxd6,Bf6,Qxf6,O-O,Rxe5,Qxb2,d6,Qxb3,Qe7,Re8', 'Qxe8+,Bxe8,Rxe8+,Kg7,d7,Qd1,d8=Q,Qxd8,Rxd8', 'https://lichess.org/training/p4CfN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P4dbA', 'Rapid', 'Ganaa88', 2053, 'tranminhhieu882012', 2021, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Bg5,Be7,f3,h6,Be3,O-O,g4,Nh7,Qd2,Bg5,O-O-O,Bxe3,Qxe3,Nxd4,Rxd4,Qg5,Qxg5,Nxg5,f4,Nh7,h4,f6,Bc4,Kh8,g5,fxg5,fxg5,hxg5,hxg5,Kg8,g6,Ng5,e5,Rf5,Rdh4,Kf8,Rh8+,Ke7,Rg8,Rxe5,Rxg7+,Kf6,Rg8,d5,Bd3,Re3,Rf1+,Rf3,Rxf3+,Nxf3,Nb5,b6,Nd6,Bb7,Rxa8,Bxa8,Ne8+,Ke7,g7,Kf7,Kd1,Ne5,Ke2,Nxd3,Kxd3,Bc6,Nd6+,Kxg7,Nc8,e5,Nxa7,Bb7,Nb5,Ba6,a4,Bxb5+,axb5,Kf6,b3,e4+,Ke3,Ke5,c3,Ke6,Kd4,Kd6,c4,dxc4,bxc4,Ke6', 'Kxe4,Kd6,Kd4', 'https://lichess.org/training/P4dbA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P4iA5', 'Rapid', 'huseyin48', 1703, 'KinMaloo', 1714, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Bd6,Re1+,Ne7,d3,O-O,Nc3,Nbc6,Bg5,f6,Bh4,Rfe8,Re2,a6,Qe1,b5,a3,d4,Ne4,Nf5,Nxd6,Rxe2,Qxe2,Qxd6,Re1,Nfe7,Bg3,Qd7,Qe6+,Qxe6,Rxe6,Kf7,Re2,a5,h3,b4,a4,Nf5,Bh2,Rb8,b3,Rb7,Kf1,Nce7,g4,Nh6,Bd6,Nd5,Bxc5,Nc3,Re1,Rd7,Bxd4,Nd5,Be3,Nxe3+,fxe3,Ke6,Nd4+,Kd5,Nb5,Nf7,e4+,Kc5,d4+,Kb6,Ke2,Ng5,Ke3,Nxh3,d5,Ng5,Nd4,Re7,Kf4,Nh3+,Kg3,Ng5,Kf4,Nh3+,Kf3,Ng5+,Kf4,Nh3+,Kg3,Ng5,Nf5,Rxe4,Rxe4,Nxe4+,Kf4,g6,Ne7,Nd6,Nc6,Ka6,g5,fxg5+,Kxg5,Nf5,Ne5,Kb6,Nd7+,Kc7,Nf8,Kd6,Nxh7,Kxd5,Kxg6,Nd4,Nf6+,Ke5,Nd7+,Ke4,Nc5+,Ke3,Nb7,Nxc2,Nxa5,Kd3,Nc6,Na3,a5,Kc3,a6,Nb5,Kf6,Kxb3', 'Nd4+,Nxd4,a7', 'https://lichess.org/training/P4iA5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p4ivG', 'Rapid', 'rrrawr', 2239, 'Anwar1811', 2147, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,Bg4,Be2,Nc6,O-O,Bxf3,Bxf3,e5,dxe5,dxe5,Nd5,Nd7,f5,Nd4,fxg6,fxg6,Bg4,Nc5,Rxf8+,Bxf8,Be3,Nxe4,Bxd4,exd4,Qxd4', 'Bc5,Be6+,Kf8,Rf1+,Ke8,Bf7+,Kd7', 'https://lichess.org/training/p4ivG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p4Ka3', 'Rapid', 'Fourier_Transform', 1676, 'prashant11', 1706, 'e4,d5,exd5,Nf6,d6,cxd6,Nf3,b6,d4,Bb7,Nc3,Nc6,Be2,e5,dxe5,dxe5,Bg5,Be7,O-O,h6,Bxf6,Bxf6,Bb5,O-O,Re1,Nd4,Nxe5,Bxe5,Rxe5,Nxb5,Rxb5,Qc7,Qg4,f5,Rxf5,Rxf5,Qxf5,Rf8,Qe6+,Kh8,Re1,Qc5,Qe3,Qc6,Qg3,Rf5,Re7,Rg5,Qb8+,Kh7,f3,Qxf3,Qxb7', 'Rxg2+,Kh1,Qf1#', 'https://lichess.org/training/p4Ka3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p4Mot', 'Rapid', 'TigerSiberian69', 1908, 'mahindra969', 1809, 'e4,e5,f4,f6,fxe5,d6,Nf3,fxe5,Bc4,Bg4,O-O,Nf6,Nc3,Be7,h3,Bh5,Qe1,Bf7,Bxf7+,Kxf7,Ng5+,Kg8,Qf2,h5,Qf5,Qd7,Qg6,Qe8,Qxe8+,Nxe8,Nd5,Bf6,Ne6,Na6,c3,c6,Nxf6+,gxf6,d4,Kf7,d5,cxd5,exd5,Nec7,c4,Nxe6,dxe6+,Kxe6,Bd2,Nc5,Rae1,Rhg8,Kh2,Rg6,b4,Nd3,Re3,Nb2,Rc1,Rag8,g3,h4,g4,f5,gxf5+,Kxf5,Rf1+,Ke6,Re2,Nxc4,Bc3,Nb6,Be1,Nd5,Bxh4,Nxb4,Rb1,a5,a3,Nd5,Rxb7,Nf4,Re7+,Kf5', 'Rf7+,Ke6,Rxf4', 'https://lichess.org/training/p4Mot');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P4NGI', 'Rapid', 'Fabe69', 1832, 'PatChess666', 1883, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Be7,Qd2,O-O,Qf2,c4,Be2,f6,O-O,fxe5,fxe5,a6,Qg3,b5,a3,Rb8,Bh6,Rf7,Ng5,Bxg5,Bxg5,Qf8,Rxf7,Qxf7,Rf1,Qe8,Bh6,Qg6,Bf4,Qxg3,Bxg3,Nxd4,Bd1,Nf5,Nxd5,Nxg3,Ne7+,Kh8,hxg3,Bb7,Bf3,Bxf3,Rxf3,Nxe5,Re3,Re8,Rxe5,Rxe7,a4,Kg8,axb5,axb5,Rxb5,Rc7,c3,Kf7,Kf2,Kf6,Ke3,g6,g4,h6,Ke4,Rd7,b4,cxb3,Rxb3,Rd2,Kf3,Kg5,g3,Rd3+,Kg2,Kxg4,Rb4+,Kf5,c4,Rc3,Rb5+,e5,c5,g5,Ra5,h5,Rb5,g4,Ra5,Rc2+,Kf1,Ke4,Ke1,Kd5,Ra8,Rxc5,Rd8+,Ke4,Rh8,Kf3,Rxh5,Kxg3,Ke2,Kf4,Kf2,Rc2+,Ke1,Ke3,Kd1,Rg2,Rxe5+,Kf4,Re8,Rf2,Ke1,Rf3,Rf8+,Kg3,Rg8,Kh3,Ke2,Ra3,Rh8+,Kg2,Rg8,g3,Kd2,Ra5,Ke3,Re5+,Kf4,Re1,Rxg3+,Kh2,Rg8,Rf1+,Ke3,Re1+,Kf2,Re7', 'Rh8+,Rh7,Rxh7#', 'https://lichess.org/training/P4NGI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P4OZM', 'Rapid', 'jkaminski', 1644, 'canserberoelmejor', 1703, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bb5+,Bd7,Bxd7+,Qxd7,Be3,Bg7,Qd2,O-O,Bh6,Nc6,Nxc6,Qxc6,O-O,Nxe4,Nxe4,Qxe4,Bxg7,Kxg7,Rfe1,Qh4,g3,Qf6,c3,Rac8,Re3,Rc7,Rae1,Rfc8,h4,h5,Qd3,a5', 'Rf3,Qxf3,Qxf3', 'https://lichess.org/training/P4OZM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p4PoT', 'Blitz', 'Nikita12453', 1917, 'kennyfischer', 1912, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Bb4,Bc4,Qc7,Bb3,Bxc3+,bxc3,Qxc3+,Bd2,Qc7,Rc1,Nc6,O-O,Nge7,Bc3,O-O,Ng5,Ng6,f4,Nxf4,Qg4,e5,Rxf4,exf4,Nxh7,Ne5', 'Nf6+,Kh8,Qh5#', 'https://lichess.org/training/p4PoT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p4ReJ', 'Classical', 'josevicentleones1940', 1866, 'maniutek', 1869, 'e4,e5,Nf3,Qe7,Bc4,h6,Nc3,c6,d4,d6,dxe5,dxe5,h3,Nf6,O-O,g6,Qe2,Bg7,Rd1,O-O,a3,Kh7,Be3,b6,Rd2,Nh5,Rad1,f5,Rd6,f4,Bc1,b5,Ba2,a5,a4,b4,Nb1,c5,Qb5,Qc7,Qb6,Qxb6,Rxb6,Nd7,Rbd6,Ndf6,Nbd2,Ne8,Rc6,Nhf6,Rxc5,Bb7,Bd5,Nxd5,exd5,Nd6,Nb3,e4,Nfd4,f3,Ne6,Rfc8,Nxa5', 'Rxc5,Nxb7,Nxb7,Nxc5,Nxc5', 'https://lichess.org/training/p4ReJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p4rnr', 'Rapid', 'Bsmalh', 1755, 'Fight4Rhodesia', 1754, 'e4,c5,Bc4,d6,d3,e6,Nf3,a6,a3,b5,Ba2,Nd7,Ng5,Bb7,Qf3,Ngf6,Qh3,Be7,Nxf7,Kxf7', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/p4rnr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P4T16', 'Rapid', 'ahmadnaj', 1623, 'Pheo', 1666, 'c4,c6,Nc3,d5,cxd5,cxd5,e3,Nf6,d4,Bg4,Be2,Bxe2,Ngxe2,e6,Qc2,Be7,Nb5,Nc6,O-O,O-O,a3,a6,Nbc3,Rc8,Qd1,b5,b4,Rb8,Nf4,a5,Bd2,axb4,axb4,Bxb4,Nce2,Bxd2,Qxd2,Ne4,Qb2,b4,Ra6,Ne7,Nd3,b3,Ra3,Qb6,Rb1,Qd8,f3,Nf6,Nc5,Nf5,Kf2,h6,Nxb3,Nh7,Qc2,Qh4+,Ng3,Qg5,Nxf5,exf5,Nc5,Qh4+,Kg1,Rxb1+,Qxb1,f4,exf4,Qxf4,Nd3,Qxd4+,Nf2,Ng5,Rd3,Qc4,Qd1,Rd8,Kh1,Qc5,Ng4,Ne6,Ne3,Nf4,Rd4,Ne6,Rxd5,Qxe3,Rxd8+,Nxd8,Qxd8+,Kh7,Qd1,f5,Qb1,Kg6,h3,h5,Qd1,h4,Qd6+,Kg5,Qd8+,Kh5,Qd1,g6,f4+,Kh6,Qf1,Kh5,Qd1+,Kh6,Qf1,Qg3,Qc1,Qf2,Qc4,Qe1+,Kh2,Qg3+,Kh1,Qe1+,Kh2,Kh5,Qd4,Qe4', 'Qh8#', 'https://lichess.org/training/P4T16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P55BL', 'Blitz', 'DavidJK', 1818, 'KnudPeder', 1823, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Bf5,Bg5,e6,Nf3,Be7,Bd3,Bg6,O-O,O-O,Ne5,dxc4,Bxc4,Nd5,Bxe7,Nxe7,Qd2,Nbc6,Rfd1,Rc8,a3', 'Nxe5,dxe5,Qxd2,Rxd2,Rxc4', 'https://lichess.org/training/P55BL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P56VP', 'Rapid', 'demo81', 1866, 'slampack', 1608, 'd4,d5,c4,dxc4,Qa4+,c6,Qxc4,e6,a3,b5,Qc2,Qxd4,e3,Qf6,Bxb5,Bd7,Be2,Nh6,Nf3,Ng4,O-O,Be7,Qb3,O-O,Qb7,Bd6,Nc3,Qh6,g3,c5,Ne4', 'Bc6,Qxc6,Nxc6', 'https://lichess.org/training/P56VP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P588u', 'Blitz', 'erico107', 1620, 'Norb74', 1510, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Be6,Bb3,Be7,Nf3,O-O,O-O,Nd7,Bf4,Bg4,h3,Bh5,Re1,Re8,Qd3,Nb6,Re2,Nd5,Bg3,Bg6,Qd2,a5,a4,Qb6,Rae1,f5,c4,Kf8,Ba2,Nb4,Bb1,c5,dxc5,Qxc5,Ne5,Rad8,Nd7+,Rxd7,Qxd7,f4,Bxg6,fxg3,Be4,Nc6,Bxc6,bxc6,Rxe7', 'Qxf2+,Kh1,Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/P588u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P5AiM', 'Rapid', 'd1962', 1811, 'davoglio007', 1934, 'e4,e5,Nf3,Nc6,Be2,Nf6,d3,h6,O-O,Bc5,c4,d6,Nc3,a6,a3,O-O,Kh1,Ng4,Ng1,Nxf2+,Rxf2,Bxf2,Nh3,Bxh3,gxh3,f5,Qf1,fxe4,Nxe4,Qh4,Qg2,Ba7,Bd2,Nd4,Rg1,Rf7,Be1,Qe7,Bh5,Rff8,Bh4,Qd7,Nf6+,Rxf6,Bxf6,Nf5,Rf1,Kh8,Rxf5,gxf6,Rxf6,Rg8', 'Rxh6+,Qh7,Rxh7+', 'https://lichess.org/training/P5AiM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p5CFi', 'Blitz', 'cenil-lopis', 2028, 'Elyas_BBC', 2214, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qd8,Rxe4+,Be7,Nxd4,Nxd4,Rxd4,Bd6,Nb5,O-O,Nxd6,cxd6,Rxd6,Qh4,Be3,Bg4,Qd2,Be6,b3,Rac8,c4,Qf6,Rd1,Qg6,Bxa7,Ra8,Bc5,Rfe8,Rd8,Bh3,g3,Qe4,Rxe8+,Rxe8,Qd5', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/p5CFi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p5CQ8', 'Rapid', 'NEOCHESSS', 1723, 'bavaresco2001', 1687, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Bc5,e5,Ng8,Bg5,f6,exf6,Nxf6,Re1+,Be7,Bxf6,gxf6,Ng5,d5,Qh5+,Kd7,Bxd5,fxg5,Qg4+,Ke8,Qh5+,Kd7,Qg4+,Kd6,Re6+,Bxe6,Qxe6+,Kc5,a3,Qxd5', 'b4+,Kb6,Qxd5', 'https://lichess.org/training/p5CQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p5EGL', 'Rapid', 'bababu123', 2001, 'GuerreroH2', 2075, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,c4,e6,Nc3,Be7,Bf4,Nc6,Be2,dxc4,Bxc4,O-O,O-O,b6,Re1,Bb7,Rc1,Na5,Bd3,Rc8,a3,Nd5,Nxd5,Qxd5,Be4,Rxc1,Qxc1,Qd7,Ne5,Qc8,Qb1,Bxe4,Qxe4,Nb3,Qd3,Na5,b4,Nc6,Rc1,Nxe5,dxe5,Qb7,h3,Re8,Rc3,Rd8,Qc2,Qd5,Rc7,Rd7,Rc8+,Bf8,Bg5,h6', 'Rxf8+,Kxf8,Qc8+', 'https://lichess.org/training/p5EGL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P5gRK', 'Blitz', 'talfisher99', 1521, 'kedilley', 1513, 'e4,e5,Nf3,Nc6,Nc3,d6,Bc4,f5,d3,f4,d4,Bg4,dxe5,Nxe5,Nxe5,Bxd1', 'Bf7+,Ke7,Nd5#', 'https://lichess.org/training/P5gRK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p5ibE', 'Blitz', 'atorralba', 2168, 'foglia97', 2119, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,N1e2,Nf6,Bg5,e5,dxe5,Qa5+,Qd2,Qxe5,O-O-O,Nbd7,Bf4,Qe6,Nd4,Qxa2,Re1+,Be7,Nb3,O-O-O,Rxe7,Nc5,Rc7+,Kb8,Qb4', 'Nxb3+,Qxb3,Qa1#', 'https://lichess.org/training/p5ibE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p5IC8', 'Rapid', 'aruo', 2229, 'zordour', 2193, 'd4,Nf6,c4,g6,Nc3,d6,e4,Bg7,Be3,O-O,f3,Nbd7,Qd2,e5,O-O-O,exd4,Bxd4,Nh5,Bxg7,Nxg7,g4,Ne5,h4,h5,g5,Re8,Be2,Be6,b3,a5,Nh3,Bxh3,Rxh3,Qd7,Rh2,a4,Nd5,Kh8,Nf6,Qc6,Nxe8,Nxe8,f4,axb3,axb3,Qa6,fxe5', 'Qa1+,Kc2,Ra2+,Kd3,Rxd2+', 'https://lichess.org/training/p5IC8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P5iDL', 'Rapid', 'daniel2598a', 1838, 'Insacrificabile', 1696, 'e4,c5,Nf3,Nc6,Bc4,Nf6,Nc3,g6,e5,Ng4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nxe5,Qe4,d6,f4,Bf5,Qd5,Nc6,Qf7+,Kd7,O-O,Bh6,Nd5,Bxg5,fxg5,Qa5,Qg7,Rag8', 'Nf6+,Kc7,Nxg8', 'https://lichess.org/training/P5iDL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P5iRw', 'Rapid', 'GRENIK', 1634, 'Basudewakrisna', 1990, 'e4,e6,Nf3,d5,exd5,exd5,d3,Nf6,c3,Bd6,Bg5,h6,Be3,O-O,Be2,c6,Qd2,Qc7,g3,Ng4,Nh4,Nxe3,Qxe3,Bh3,Bf1,Bxf1,Rxf1,Na6,Qf3,Rae8+,Kd2,Qb6,b3,d4,Nf5,dxc3+,Nxc3,Bb4,Rac1,Re6,h4,Qa5,d4,Qxa2+,Rc2,Bxc3+,Kxc3,Qa5+,Kb2,Nb4,Ra1,Qb6,Rc4,a5,h5,Nd5,Qg4,g6,hxg6,Rxg6,Nxh6+,Kg7,Nf5+,Kf6,Qh4+,Ke6,Re1+,Kd7,Re7+,Nxe7', 'Qxe7+,Kc8,Qxf8+', 'https://lichess.org/training/P5iRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P5K8O', 'Blitz', 'Skiroll', 2026, 'chess_maxster', 1960, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,g6,Nc3,Bg7,Be3,a6,a3,e5,d5,Nce7,Be2,Bd7,O-O,f5,exf5,Nxf5,Bg5,Nge7,Nh4,O-O,Nxf5,Bxf5,Bd3,Bd7,Ne4,Bf5,Ng3,Bd7,Rc1,Rf7,Ne4,Bf5,Qa4,Qb6,Be3,Qd8,Rfd1,Nxd5,Bg5,Qb6,Rc2,Be6,Bh4,Nf4,Bg3,Nxd3,Rxd3,Bf5,Rxd6,Qa7,Rcd2,Bxe4,Qxe4,Raf8,Rd8,Qc5,h3,Qc1+,Kh2,Qc5,Rxf8+,Rxf8,Qd5+,Qxd5,Rxd5,Re8,Rd7,b5,Ra7,e4,b4,Re6,Ra8+,Kf7,Rd8,Ke7,Bh4+,Kf7,Rd7+,Kf8,Bg3,h5,Bd6+', 'Rxd6,Rxd6,Be5+,g3,Bxd6', 'https://lichess.org/training/P5K8O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P5Oin', 'Rapid', 'mostafaKhaled', 1759, 'jamasp', 1814, 'd4,c5,Bf4,g6,d5,d6,Nf3,Bg7,c3,b5,e3,a6,a3,Nf6,Nbd2,Nbd7,Bd3,Bb7,e4,O-O,Ng5,h6,Ngf3,Nh5,Bg3,Nxg3,hxg3,Ne5,Bc2,e6,Nxe5,Bxe5,Rxh6,Bg7,Rh1,exd5,Qg4,dxe4,O-O-O,d5,Nxe4,dxe4,Rxd8,Rfxd8,Bxe4,Bxe4,Qxe4,Re8,Qh4,f6,Qh7+,Kf7,Qh3,Re7,Qg4,Rae8,c4,Re4,Qd7+,R8e7,Qd5+,R7e6,cxb5,axb5,Qxc5', 'Rc4+,Qxc4,bxc4', 'https://lichess.org/training/P5Oin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P5q70', 'Blitz', 'Rubik87', 2219, 'mrBingoman1', 2152, 'f4,d5,Nf3,g6,g3,Bg7,Bg2,c5,d3,Nf6,c3,O-O,O-O,Nc6,Na3,Bg4,Ne5,Nxe5,fxe5,Ne8,d4,Nc7,h3,Bf5,Qb3,Rb8,Nb5,c4,Qb4,a5,Qxa5,b6,Qb4,Na6,Qa4,Ra8,Qd1,Qd7,g4,Bxg4,hxg4,Qxb5,a3,Qd7,e4,Nc7,Bg5,e6,Qd2,Rad8,Bh6,dxe4,Bxe4,Nd5,Bxg7,Kxg7,g5,Qe7,Rf3,Rh8,Rh3,b5,Rf1,Rd7,Qf2,Kg8,Rf3,Qxg5+,Kh1,h5,Bxd5,Rxd5,Rxf7,Rd8,Rf8+,Rxf8', 'Qxf8+,Kh7,Rf7#', 'https://lichess.org/training/P5q70');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P5qZR', 'Classical', 'LukerKing90', 1660, 'kevin-zhexia', 1755, 'd4,d5,Bg5,h6,Bh4,Bf5,Nf3,Nc6,Bg3,e6,e3,Bd6,Bxd6,Qxd6,c4,Qb4+,Qd2,Bxb1,Rxb1,Qa4,cxd5,exd5,a3,Nf6,Bd3,O-O,O-O,Ne7,Bc2,Qd7,Ne5,Qe6,Bb3,c6,e4,Nxe4,Qe3,Nf5,Qd3,f6,Ng6,Rfd8,Bc2,Kh7,Nf4,Qd6,f3,Qxf4,fxe4,Qe3+,Kh1,dxe4,Qxe4,Qxe4,Bxe4,g6,Bxf5,gxf5,Rxf5,Rxd4,Rxf6,Rad8,h3,Kg7,Re6,R4d7,Rbe1,Rd1,Rxd1,Rxd1+,Kh2,Rd7,Kg3,a5,Kf4,b5,Rxc6,Rd2,Rc7+,Kg6,Rb7,Rxb2,g4,b4,axb4', 'Rxb4+,Rxb4,axb4', 'https://lichess.org/training/P5qZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P5s0r', 'Classical', 'nizamokmen', 1967, 'mourat9', 1766, 'd4,c6,c4,d5,e3,Nf6,Nf3,Bf5,Nc3,Nbd7,cxd5,cxd5,Qb3,e6,Qxb7,Be7,Bb5,O-O,Bxd7,Nxd7,O-O,a5,Ne2,Rb8,Qa6,Qc7,Ng3,Bg6,b3,Nf6,Bd2,Ra8,Rac1', 'Qxc1,Rxc1,Rxa6', 'https://lichess.org/training/P5s0r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P5VkG', 'Blitz', 'IM Odirovski', 2527, 'JHeircount64', 2385, 'Nf3,Nf6,d4,g6,Bf4,Bg7,e3,O-O,h3,d5,Be2,c5,c3,Nc6,Qb3,Ne4,O-O,Re8,Rd1,h6,dxc5,Be6,Qxb7,Rc8,Qb5,Nxc5,Qxc5,Nd4,exd4,Rxc5,dxc5,Bf5,Nd4,e5,Nxf5,exf4,Bb5,gxf5,Bxe8,Qxe8,Nd2,Qc6,Nf3,Qxc5,Rd2,Qb5,Rad1,Kh7,Rxd5,Qxb2,Rxf5,Qxa2,Rd7', 'Qb1+,Kh2,Qxf5', 'https://lichess.org/training/P5VkG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p5vVl', 'Rapid', 'Pengvirg11', 1607, 'Mohammad786', 1716, 'c4,e6,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Nf6,e3,g6,Nge2,Bg7,Ne4,Nbd7,O-O,O-O,h4,h6,f4,Re8,Nf2,Qe7,e4,e5,f5,b6,d3,Bb7,fxg6,fxg6,g4,h5,gxh5,Nxh5,Bg5,Qd6,Qb3+,Kh7,Ng4,Qe6,Qxe6,Rxe6,Rf7,Bc6,Raf1,Rf8,Kh2,Rxf7,Rxf7,Re8,d4,Rf8,Rxf8,Nxf8,d5,Bb5,Nc3,Bc4,b3,Bd3,Bd8,c5,Be7,Nf4,Bxf8,Bxf8,Nxe5,Nxg2,Kxg2,Bg7,Nxd3,Bxc3,Kf3,Bf6,Kg4,Kg7,e5,Bd8,Nf4,Kf7,Ne6,Be7,h5,gxh5+,Kxh5,a5,Nc7,Bd8,e6+,Ke7,Nb5,Kf6,Kg4,Bc7,Kf3,Bd8,a4,Ke5,Nc3,Kd4,Nb5+,Kxd5,e7,Bxe7,Nc7+,Kc6,Ne8,b5,Ke4,bxa4,bxa4,c4,Kd4,Kd7,Ng7,c3,Kxc3', 'Bf6+,Kc4,Bxg7', 'https://lichess.org/training/p5vVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p620g', 'Classical', 'rahe78', 1682, 'Luen', 1718, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,e6,a3,Bc5,Bg5,O-O,Qf3,Nd4,Qd1,Nc6,Qe2,Nd4,Qd2,h6,Bh4,Nxe4', 'Nxe4,Qxh4,Nxc5', 'https://lichess.org/training/p620g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P62jH', 'Rapid', 'KillaUnknown', 1873, 'carvaflu', 1898, 'd4,e6,Bf4,b6,e3,Bb7,Nf3,f5,Nbd2,Nf6,c4,Bb4,h3,Ne4,a3,Bxd2+,Nxd2,Nxd2,Qxd2,d6,Bd3,g5,Bg3,h5,f3,h4,Bf2,Nd7,O-O-O,Qf6,Rhf1,O-O-O,Kb1,c5,Qc3,e5,d5,f4,e4,a5,b4,axb4,axb4,cxb4,Qxb4,Kc7,Rc1,Nc5,Bxc5,bxc5,Qa5+,Kd7,Qb6,Bc8,Kc2,Ke8,Ra1,Kf7,Ra7+,Bd7,Rfa1,Kg6,R1a6,Bc8,Ra1,g4,hxg4,h3,gxh3,Rxh3,Rf1,Qh4,Qc7,Rh2+,Kc3,Qf6,Ra8,Rh7,Qc6', 'Bb7,Rxd8,Bxc6', 'https://lichess.org/training/P62jH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P69xW', 'Rapid', 'Skever', 1740, 'DavidMayta_UNE', 1718, 'e4,e5,Nf3,Bc5,c3,c6,d4,exd4,cxd4,Bb4+,Bd2,Be7,e5,d5,Be2,Be6,O-O,Nd7,Nc3,Nh6,Bxh6,gxh6,Nd2,h5,Bxh5,Qc7,Qf3,O-O-O,b3,f6,Bg4,Bxg4,Qxg4,fxe5,Rfe1,h5,Qh3,h4,dxe5,Qb6,Na4,Qd4,Rad1,Rdf8,Nf3,Qf4,e6,Nb6,Nxb6+,axb6,Rf1,Rhg8,Rd4', 'Qxf3,Qxf3,Rxf3', 'https://lichess.org/training/P69xW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P6BSd', 'Blitz', 'areallusernamesinuse', 1665, 'igorme1', 1690, 'd4,e6,c4,d5,Nc3,dxc4,e3,Na6,Bxc4,Nf6,Nge2,Be7,Ng3,O-O,O-O,b6,e4,Bb7,e5,Nd5,Qh5,Nxc3,bxc3,c5,Bd3,g6,Qg4,Kh8,Bh6,Rg8,Rfe1,cxd4,cxd4,Nb4,Bb1,Qd5,Be4,Qd7,Bxb7,Qxb7,Ne4,Nc2,Nf6,Bxf6,exf6,Nxa1,Bg5,Nc2,Re4,Rad8,Qh4,Qd5', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/P6BSd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p6EPd', 'Rapid', 'Cosmo2011', 1928, 'Suchit_Singh', 1946, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,b3,cxd4,cxd4,Bb4+,Bd2,Nxd4,Nxd4,Qxd4,Bxb4,Qxa1,Bc3,Qxa2,Bb5+,Bd7,Bxd7+,Kxd7,O-O,Rc8,Qd3,a6,b4,Ne7,b5,Rc4,Nd2,axb5,Nxc4,bxc4,Qd4,Rc8,f4,b5,f5,g6,fxe6+,fxe6,Ra1,Qc2,Ra7+,Rc7,Rxc7+,Kxc7,Qc5+,Nc6', 'Ba5+,Kd7,Qd6+,Ke8,Qxc6+', 'https://lichess.org/training/p6EPd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p6gae', 'Rapid', 'cutie69', 1867, 'The_Crackxx', 1889, 'd4,Nf6,Nf3,d5,c4,e6,Nc3,c6,e3,Bb4,a3,Ba5,Bd2,O-O,cxd5,cxd5,Ne5,Bc7,Nf3,Nc6,Bd3,Re8,Rc1,e5,dxe5,Nxe5,Nxe5,Bxe5,Bb5,Bd7,O-O,Bxc3,Bxd7,Bxd2,Bxe8,Bxc1,Bxf7+,Kxf7,Qxc1,Rc8,Qd2,Ne4,Qb4,b6,Rd1,Rc4', 'Qxc4,dxc4,Rxd8', 'https://lichess.org/training/p6gae');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P6JOL', 'Rapid', 'SALE0706', 1771, 'PaoloMonetti86', 1805, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Bb5+,Bd7,Bxd7+,Nxd7,Nb5,Nc5,f3,a6,N5c3,Nf6,Bg5,Be7,b4,Ne6,Bxf6,Bxf6,Nd5,Bh4+,g3,Bg5,h4,Be7,Nbc3,Nd4,Nxe7,Qxe7,Nd5,Qd8,c3,Nb5,a4,Nc7,O-O,O-O,c4,f5,exf5,Rxf5,Qd3,Rf7,Nxc7,Qxc7,Qd5,Rd8,Rad1,Kf8,f4,exf4,Rxf4,Rxf4,gxf4,Qd7,b5,axb5,axb5,Qg4+,Qg2,Qxf4,Rd5,Qxh4,Rf5+,Kg8,Qd5+,Kh8,Qf7,h6,Rf4,Qg3+,Kh1,Ra8,Rf1,Qg5,Qxb7,Ra3', 'Rf8+,Kh7,Qe4+,Qg6,Rh8+,Kxh8,Qxg6', 'https://lichess.org/training/P6JOL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p6LiH', 'Rapid', 'kamilcitak', 1690, 'mihircn', 1700, 'e4,e5,f4,exf4,Nf3,Nf6,Bc4,d5,exd5,Bc5,d4,Bb4+,c3,Qe7+,Ne5,Bd6,O-O,O-O,Bxf4,Bxe5,Bxe5,Bg4,Bxf6', 'Qe3+,Rf2,Bxd1', 'https://lichess.org/training/p6LiH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P6m2W', 'Rapid', 'secret_guy', 2193, 'Sylt96', 2045, 'Nf3,c5,c4,Nc6,b3,Nf6,Bb2,e6,g3,d5,cxd5,exd5,Bg2,Be7,d4,b6,O-O,O-O,Ne5,Bb7,Nxc6,Bxc6,Nc3,Ne4,Rc1,Nxc3,Bxc3,Rc8,dxc5,bxc5,e3,Qd7,Qd2,Rfd8,Rfd1,Qe6,Qb2,f6,Qd2,Qg4,h3,Qg5,h4,Qg6,Qd3,Qxd3,Rxd3,d4,Bxc6,Rxc6,Ba5,Rd5,b4,Ra6,a3,Kf7,exd4,cxd4,Rc4,Rad6,Kg2,f5,Kf3,Bf6,Rc7+,Rd7,Rxd7+,Rxd7,b5,Ke6,Ke2,Kd5,Rb3,Be7,Bb4,Bxb4,Rxb4,Kc5,Kd3,h6,Rc4+,Kxb5,Rxd4', 'Rxd4+,Kxd4,Ka4', 'https://lichess.org/training/P6m2W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p6MJa', 'Classical', 'Lionnelfarid83', 1995, 'braunegefahr', 2015, 'e4,e5,Nf3,Nc6,c3,Nf6,Bd3,d5,Qe2,Bg4,O-O,dxe4,Bxe4,Nxe4,Qxe4,f5,Qa4,Bxf3,gxf3,Bd6,d4,O-O,dxe5,Bxe5,f4,Bd6,Nd2,Qf6,Nf3,Ne7,Be3,Ng6,Bd4,Qe7,Rfe1,Qd8,Ng5,Nxf4,Qc4+,Kh8,Nf7+,Rxf7,Qxf7', 'Qg5+,Kf1,Qg2#', 'https://lichess.org/training/p6MJa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p6OYq', 'Rapid', 'pminsider', 1616, 'afonsom20', 1684, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,g3,Nf6,Bg2,Bg4,Nc3,Nxd4,Qxd4,e6,Bf4,Bd6,Ne5,O-O,Nxg4,Nxg4,Bxd6,Qxd6,Qxg4,f5,Qf4,Qc5,O-O,Rad8,Qe5,Rfe8,a4,b6,h4,g6,Rad1,a6,h5,b5,axb5,axb5,hxg6,hxg6,Qf6,Kh7,Bf3,Rf8,Qe7+,Qxe7,Kg2,b4,Nb5,Rb8,Nd4,Rbc8,Rde1,e5,Bxd5,Qc5', 'Rh1+,Kg7,Ne6+,Kf6,Nxc5', 'https://lichess.org/training/p6OYq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p6t1T', 'Classical', 'asdfasdfsdfsdfsfdfsf', 1837, 'saranrockzz', 1797, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,d6,Be3,Nf6,Bb5,Bd7,Qd2,Be7,O-O-O,O-O,f3,a6,Bxc6,bxc6,g4,e5,Nf5,Bxf5,gxf5,Re8,Rhg1,Bf8,Bg5,Be7,h4,Qc7,h5,Red8,h6,d5,Rh1,dxe4,Qh2,g6,Rxd8+,Rxd8,Bxf6,Bxf6,Nxe4,Bh8,Qe2,Qb6,fxg6,fxg6,Qc4+,Kf8,Ng5', 'Qe3+,Kb1,Qxg5', 'https://lichess.org/training/p6t1T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p6uxU', 'Rapid', 'David_Sanchez_Prieto', 2021, 'shah66', 2027, 'e4,e5,Nc3,d6,Nf3,c6,d4,Qe7,dxe5,dxe5,Bg5,Nf6,Qd2,h6,Bh4,Nbd7,O-O-O,g6,g4,g5,Bg3,Nxg4,h3,Ngf6,Bc4,Bg7,h4,g4,Nxe5,Nxe5,Bxe5,O-O,Bd6,Qe8,Bxf8,Qxf8,e5,Nh5,Rhe1,Bf5,Bd3,Be6,Qe3,Qb4,a3,Qe7,Qe4,Qxh4,Qh7+,Kf8,Ne4,Qh2,Nc5,Qf4+,Kb1,Bxe5,Nxe6+,fxe6,Qxb7', 'Rb8,Qxb8+,Bxb8', 'https://lichess.org/training/p6uxU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p6WHV', 'Rapid', 'benjack', 1728, 'imro', 1815, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,c3,O-O,a4,a6,b4,Ba7,Bg5,h6,Bh4,Qe7,Kh1,Bg4,Nbd2,g5,Bg3,Nh5,h3,Bd7,Nh2,Ng7,Ng4,Kh7,Qe2,Nd8,f4,gxf4,Rxf4,exf4,Bxf4,Bxg4,Qxg4,Nde6,Be3,Bxe3,Nf3,Ng5,Rf1,Nxf3,Rxf3,Bd2,Rf2,Bxc3,Rf3,Bd4,Rg3,f5', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/p6WHV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P6Xgw', 'Rapid', 'Shevchenko_vlad', 1815, 'samyipro', 1854, 'e4,c6,Nf3,d5,Nc3,Bg4,exd5,cxd5,h3,Bh5,d4,Nf6,Be2,e6,Ne5,Bxe2,Qxe2,Nbd7,Bg5,Be7,Nb5,a6,Nc3,O-O,O-O,b5,Nc6,Qe8,a4,Bd6,axb5,Qc8,Ne5,axb5,Rxa8,Qxa8,Nxb5,Be7,Nxd7,Nxd7,Bxe7,Re8,Bd6,Qc6,Be5,Nxe5,dxe5,Rb8,Nd4,Qa4,Nb3,d4,Rd1,Rb4,Qf3,h6,Nc5,Qb5,Nd3,Rc4,Qe2,Qc6,Rc1,Qc7,b3,Rc3,b4,g6,Nc5,Qb8,Ne4,d3,Qd2,Rc4,cxd3,Rd4,Nf6+,Kg7,f4,Rxb4,Rc4,Rb1+,Rc1,Qb6+,Kh2,Rb2,Rc2,Rb1,Rc1,Rb2,Qe1,Qd4,Ne8+,Kh7,Nf6+,Kg7,Ne8+,Kh7,Qh4,Qe3,Qf6,Rxg2+,Kxg2,Qe2+,Kg3,Qe3+,Kg2,Qe2+,Kg1,Qe3+,Kf1,Qxc1+,Ke2,Qc2+,Ke3,Qc5+,Ke2,Qc2+,Kf3,Qd1+,Ke4,Qa4+,Ke3,Qa7+,d4,Qa3+,Kd2,Qb2+,Kd3,Qb5+,Ke4,Qxe8,h4,Qc6+,Ke3,Qc3+,Ke2,Qc2+,Kf3,Qd3+,Kg4', 'h5+,Kg5,Qg3#', 'https://lichess.org/training/P6Xgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p6xmY', 'Blitz', 'ssssssssss29012901', 1838, 'raba11', 1578, 'e4,e5,Nf3,Bc5,Nxe5,f5,Qh5+,g6,Nxg6,Nf6,Qh4,Rg8,Ne5,Ng4,d4,Qxh4,g3,Qe7,Nxg4,fxg4,dxc5,Qxe4+,Be3,Qxh1,Kd2,Qxf1,Nc3,Qc4,Re1,d6,Bg5+,Kd7,c6+,Nxc6,Ne4,Qd5+,Kc1,Qxa2,Nf6+,Kd8,Nxg8+,Kd7', 'Nf6+,Kd8,Re8#', 'https://lichess.org/training/p6xmY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P6YGC', 'Blitz', 'bas1k', 1529, 'Aristobaba', 1522, 'd4,b6,e4,Bb7,Nc3,e6,f4,a6,Nf3,d6,Be2,h6,h4,Nd7,g4,Ne7,Be3,Ng6,Qd3,Be7,O-O-O,c5,f5,Nxh4,fxe6,fxe6,g5,Bxg5,Nxg5,hxg5,e5,Bxh1,Rxh1,Qe7,Ne4,d5,Bxg5,c4,Qh3,Ng6,Nd6+,Qxd6,Qxh8+,Nxh8,Rxh8+,Qf8', 'Bh5+,g6,Bxg6#', 'https://lichess.org/training/P6YGC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P6yL3', 'Blitz', 'nir8888', 1820, 'cantfindaname', 1799, 'd4,d5,c4,Nf6,Nc3,g6,e3,Bg7,Nf3,O-O,Bd2,Bg4,cxd5,Nxd5,Be2,Nc6,Rc1,Bxf3,Bxf3,e5,Bxd5,exd4,Bxc6,dxc3,Bxc3,bxc6,Bxg7,Kxg7,Rxc6,Qe7,Qc2,Rfd8,O-O,Rd7,Rc1,Rad8,g3,h5,Rxc7,Rxc7,Qxc7,Rd1+,Kg2,Qe4+,Kh3,g5,Qc3+,Kh6,Rxd1', 'g4+,Kh4,Qe7+,Qf6+,Qxf6#', 'https://lichess.org/training/P6yL3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p6YXt', 'Blitz', 'PaGuCa', 1738, 'gbg81', 1708, 'd4,g6,c4,Bg7,Nc3,c6,e3,d5,Nf3,Nh6,Qb3,b6,Bd3,Bg4,Nd2,e6,O-O,Qg5,cxd5,exd5,Be2,Bh3,Bf3,Nf5,Kh1,Nh4,gxh3,Nxf3,Nxf3,Qf5,Kg2,h5,h4,Qg4+,Kh1,Qxf3+,Kg1,Nd7,Qc2,Qg4+,Kh1,Qxh4,Ne2,Nf6,Nf4,Ng4,Qxc6+,Kf8,Qxa8+,Ke7,Qxa7+,Kf6,Qxb6+,Kg5,h3,Nxf2+,Kg2,Ne4,Rf3,Kh6,Qc7,Qg5+,Kh2,Rd8,Qxf7,Rc8,Qxd5,Rc2+,Kh1,Ng3+,Kg1', 'Ne2+,Kf1,Qg1#', 'https://lichess.org/training/p6YXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P6ZZ1', 'Rapid', 'AndrewTatarsky', 1948, 'Pikalov_Evgeny', 2121, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,c5,d5,a6,a4,Nbd7,Bd3,e5,fxe5,Nxe5,Nxe5,dxe5,O-O,Nh5,Be3,b6,a5,Qh4,axb6,Nf4,Bxc5,Qg5,Qc2,Bh3,Rxf4,exf4,Bxf8,f3,Bf1,Bxf8,Na4,Bd7,Qf2,fxg2,Bxg2,Bxa4,Rxa4,Qc1+,Bf1,Bh6,Qg2,Be3+,Kh1,Bxb6,e5,Bd4,d6,Rd8,Rxa6,Bxe5,Qe2,Bxd6,c5,Bxc5,Rc6,Rd1,Rf6,Be3,b4,Rd2,Qxe3', 'Rxh2+,Kxh2,Qxe3', 'https://lichess.org/training/P6ZZ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P71iW', 'Rapid', 'Caliastros', 1746, 'calpap6699', 1717, 'd4,d5,c4,c6,Bg5,Nf6,f3,e6,Nc3,Bd6,e4,dxe4,fxe4,e5,c5,exd4,Qxd4', 'Bg3+,hxg3,Qxd4', 'https://lichess.org/training/P71iW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p72nt', 'Rapid', 'Lother', 1809, 'Deus_Ex_Machina_JSB', 1810, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,e5,Qe3,Nf6,h3,Nc6,Bb5,a6,Ba4,g6,O-O,Bg7,c3,O-O,Rd1,b5,Bc2,Bb7,a3,Qc7,Nbd2,Na5,b4,Nc6,Bb2,Ne7,Nf1,d5,Ng3,Rfd8,Rac1,Rac8,h4,Ng4,Qg5,Nf6,Qxe5,Qxe5,Nxe5,Nxe4,Nxe4,dxe4,Ng4,Rxd1+,Rxd1,Nf5,g3,Bxc3,Bxc3,Rxc3,Bb1,Nxg3,fxg3', 'Rxg3+,Kf2,Rxg4', 'https://lichess.org/training/p72nt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P72q5', 'Blitz', 'CM ReinaldoR', 2378, 'chaguito89', 2368, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Ne2,b6,a3,Be7,Nf4,Bb7,Bd3,d5,cxd5,exd5,O-O,Nbd7,b4,c6,f3,Rc8,e4,dxe4,fxe4,c5,bxc5,bxc5,d5,Ne5,Rb1,c4,Be2,Bc5+,Kh1,Ba6,Qa4,Qd6,h3,Bb6,Qxa6,Nfd7,Be3,Nc5,Qb5,Ncd3,Bxb6,axb6,Qxb6,Qxa3,Qd4,Rb8,Rxb8,Rxb8,Nxd3,Nxd3,Bxd3,cxd3,Qxd3,Rb3,Qf3,f6,Qh5,g6,Qg4,Qd6,Qc8+,Kg7,Qc6,Qxc6,dxc6,Rxc3,Re1,Rxc6,e5,f5,Kh2,Kf7,Kg3,Ke6,Kf4,h6,h4,Rc4+,Kg3,Rc5,h5,g5,Ra1,Kxe5,Ra6,Rc3+,Kh2,Kf4,Rxh6,g4,Rg6', 'g3+,Rxg3,Rxg3', 'https://lichess.org/training/P72q5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P73Bq', 'Classical', 'zzaba', 1641, 'Marco_72', 1622, 'e4,c5,a3,g6,b4,d6,Bb2,Nf6,Bd3,Bg7,bxc5,dxc5,e5,Nd5,Bc4,Be6,Nf3,Nc6,O-O,a6,a4,O-O,Nc3', 'Nxc3,Bxc3,Bxc4', 'https://lichess.org/training/P73Bq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P73sg', 'Blitz', 'ChessOK64', 1749, 'Thomas124', 1847, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be6,O-O,c6,c3,Nbd7,Bf4,h6,Nbd2,g5,Bg3,Bg4,Qb3,b6,Ne5,Nxe5,Rfe1,Be6,Bxe5,Bg7,Bf5,O-O,Bxf6,Qxf6,Bxe6,fxe6,f3,Rae8,a4,Qf4,Qc2,g4,a5,g3,h3,c5,dxc5,bxc5,Ra4,d4,Re4,Qd6,Nc4,Qd5,Rg4,d3,Qd2,e5,Ne3,Qd7,Rae4,Qb5,Rg6,Qxa5,Reg4,Qa1+,Nf1,Re7,Qxh6,Rff7,Rh4,Kf8,Qh7,Qe1', 'Qh8+,Bxh8,Rxh8#', 'https://lichess.org/training/P73sg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p75IB', 'Rapid', 'yuckychicken', 1653, 'matveev19', 1598, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,h6,O-O,d6,d3,Bg4,Nbd2,Nf6,h3,Bh5,Re1,O-O,Nf1,d5,exd5,Nxd5,Ng3,Bg6,Nxe5,Re8,Nxc6,bxc6,d4,Bd6,Nh5,Qh4,Ng3,Bxg3,fxg3,Qxg3,Bxd5,cxd5,Bd2,Be4,Re2,Bf3', 'Rxe8+,Rxe8,Qxf3,Qxf3,gxf3', 'https://lichess.org/training/p75IB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P75VW', 'Rapid', 'cynthiaobondo', 1648, 'iman1377', 1678, 'd4,e6,e4,Bb4+,c3,Bd6,Nd2,Nc6,Ngf3,e5,Bb5,exd4,Bxc6,dxc3,Bxb7', 'cxd2+,Bxd2,Bxb7', 'https://lichess.org/training/P75VW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p78Xm', 'Blitz', 'Stqmqancm', 2211, 'Feschka', 2184, 'e4,e5,Nf3,Nf6,d4,exd4,e5,Ne4,Nxd4,d5,Bd3,Bc5,Be3,O-O,O-O,c6,Nd2,Nxd2,Qxd2,Nd7,f4,Qe7,Rae1,g6,Kh1,Bxd4,Bxd4,c5,Bg1,c4,Be2,Qe6,Bf3,Nb6,Bxb6,axb6,Bxd5,Qg4,Bxc4,Bf5,h3,Qh5,Kg1,Qh6,Bb3,Rad8,Qe3,Rd7,Rd1,Rfd8,Rxd7,Rxd7,Qxb6,Rd2,Rf2,Rd1+,Kh2,Qh4,Qxb7,Qxf2', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/p78Xm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7a16', 'Rapid', 'nodar64', 1863, 'cutekillera', 1900, 'd4,Nf6,e3,e6,Nf3,Bb4+,c3,Be7,h3,c5,dxc5,Bxc5,Nbd2,O-O,Nb3,Bb6,Bd3,d5,Qc2,Na6,Ne5,Nc5,Nxc5,Bxc5,b4,Bd6,Nf3,h6,Bb2,Bd7,a3,Rc8,Qe2,Re8,c4,dxc4,Bxc4,a6,Bxf6,Qxf6,O-O,b5,Bd3,Bc6,Nd4,Be5,f3,Bxd4,exd4,Qxd4+,Kh1,Rcd8,Be4,Bxe4,fxe4,Qd2,Qf3,Rd3', 'Qxf7+,Kh7,Qxe8,Rg3,Rg1', 'https://lichess.org/training/p7a16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P7B7P', 'Rapid', 'patrickbgs', 2007, 'Chilon', 2309, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,Bd6,Bg2,Nf6,Qe2,Qc7,O-O,O-O,Re1,e5,exd5,Nxd5,Nxe5,Nd4,Qd1,Be6,c3,Bxe5,cxd4,Bxd4,Nf3,Bf6,Ng5,Bxg5,Bxg5,b5,Qb3,Ne3,Qxb5,Nxg2,Kxg2,Bd5+,f3,f6,Bf4,Qb6,Qxb6,axb6,a3,Rfe8,Bc7,Rec8,Bf4,g5,Bd2,Kf7,Bc3,h5,Kf2,Re8,d4,c4,a4,f5,Rxe8,Rxe8,a5,bxa5,Rxa5,Ke6,Ra6+,Kd7,Rf6,g4,Rxf5,Bxf3,Rxh5,Re2+,Kf1,Kd6,Rf5,Rxh2,Rc5,Bd5,Bb4,Rxb2,Rb5+,Kc6,Rc5+,Kb6', 'Ba5+,Ka6,Rxd5', 'https://lichess.org/training/P7B7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7bKn', 'Rapid', 'lusecar', 1838, 'djbatiste', 1962, 'e4,e5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,Nge7,d4,exd4,cxd4,d6,d5,a6,dxc6,axb5,cxb7,Bxb7,Nc3,b4,Nd5,O-O,Bg5,Bxd5,exd5,Bxb2,Re1,f6,Bh6,Re8,Qe2,Bxa1,Qe6+,Kh8,Qf7,Rg8', 'Rxe7,Qxe7,Qxe7', 'https://lichess.org/training/p7bKn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P7BvU', 'Rapid', 'eissaa', 1799, 'gena20121969', 1798, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Bc5,O-O,O-O,Bg5,h6,Be3,Bb6,Nd2,Bb7,e5,Nd5,Bxb6,cxb6,Qg4,Qe7,Qe4,g6,f4,Rfe8,Rf3,d6,Rh3,h5,Rxh5,dxe5,Rxe5,Qd7,Re1,Nf6,Rxe8+', 'Rxe8,Qxe8+,Nxe8', 'https://lichess.org/training/P7BvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7cKo', 'Rapid', 'thepwr', 1746, 'NandaAnand', 1683, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Qe2,Nf6,Bg5,Qxe2+,Bxe2,Be7,Nc3,O-O,O-O,Nc6,h4,Bg4,Rfe1,Rfe8,a3,a5,d5,Bxf3,Bxf3,Ne5,Bd1,Nfd7,f4,Bxg5,hxg5,Nc4,Bg4,Rxe1+,Rxe1,Nc5,Nb5,Nxb2,Nxc7,Rd8,f5,Nc4,g6,hxg6,fxg6,fxg6,Ne6,Nxe6,dxe6,Re8,Bf3,b5,Bd5,Ne5,Bb3,Kh7,Kf2,g5,Kg3,Kh6,Rh1+,Kg6,Rf1,a4,Ba2,Nc6,c3,Nd8,Re1,Kf6,Rf1+,Kg6,Re1,Re7,Kg4,Nc6,Rf1,Ne5+,Kg3,Nc4,Bb1+,Kh6', 'Rh1#', 'https://lichess.org/training/p7cKo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7F7e', 'Bullet', 'teutates74', 1800, 'alabkry201090', 1797, 'e4,d6,d4,e6,f4,Be7,Nf3,Nf6,Bd3,O-O,O-O,Nbd7,h3,c6,Be3,e5,dxe5,dxe5,f5,b6,Qe1,Nc5,Bxc5,Bxc5+,Kh1,Nh5,Nxe5,Qc7,g4,Qxe5,gxh5,Bd6,Qf2,c5,Rg1,Bb7,Nd2,b5,h6,c4,Rxg7+,Kh8,Rag1,cxd3,cxd3,Rac8,Qg2,Qf4', 'Rxh7+,Kxh7,Qg7#', 'https://lichess.org/training/p7F7e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7fr5', 'Rapid', 'byohannan', 1995, 'biko68', 2056, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Be3,d6,f3,e6,Nc3,Be7,Qd2,O-O,O-O-O,a6,Kb1,Qc7,g4,Rd8,h4,b5,Nxc6,Qxc6,Ne2,Bb7,Ng3,Rac8,Bd3,d5,e5,Ne8,Bd4,f6,f4,Rd7,exf6,Bxf6,Bxf6,Nxf6,g5,Ne8,h5,Nd6,Qe3,Nc4,Qe2,Qd6,Rhf1,Re7,b3,Na3+,Kb2,b4,f5,Qxg3,f6,Rec7,Qxe6+,Kh8,fxg7+,Rxg7,g6,Rxc2+,Bxc2', 'Qc3+,Kc1,Qxc2#', 'https://lichess.org/training/p7fr5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P7GKq', 'Rapid', 'Campra_Roman_Db', 2211, 'Arausio_ThomasLP', 1752, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,O-O,Nxe4,d4,exd4,Re1,Nf6,Nxd4,O-O,Nf5,Bc5,Bg5,d6,Nd2,Bxf5,Nf3,h6,Bh4,a6,a3,b5,Bd5,Bd7,Nd4,Bxd4,cxd4,Rb8,Qf3,Nxd5', 'Bxd8,Nxd8,Qxd5', 'https://lichess.org/training/P7GKq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P7GX0', 'Rapid', 'Hannibal13888', 1728, 'Willian2018', 1740, 'e4,c6,c4,d5,exd5,cxd5,cxd5,Qxd5,Nf3,Nf6,Be2,Bg4,b3,Nc6,Nc3,Qe6,O-O,g6,Bb2,Bg7,Bc4,Qd7,Re1,O-O,Bb5,e6,Ne4,Nxe4,Bxg7,Kxg7,Rxe4,Bf5,Rf4,a6,Bxc6,Qxc6,Ne5,Qd6,d4,Rad8,Qf3,b5,Rc1,Rc8,Re1,g5,Rxf5,exf5,Qxf5,h6,Qh3,Qxd4,Ng4,Qe4', 'Qxh6+,Kg8,Nf6#', 'https://lichess.org/training/P7GX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P7iJh', 'Blitz', 'Stochast1c', 1738, 'UnknownUser24', 1762, 'c4,Nf6,g3,e6,Bg2,d5,Nf3,b6,O-O,Bb7,Nc3,dxc4,Qa4+,Nbd7,Qxc4,Be7,Nb5,c6,Nbd4,Qc7,d3,O-O,Bd2,a6,Rfc1,c5,b4,b5,Qc2,Rac8,Nb3,c4,dxc4,bxc4,Na5,Be4,Qxc4,Qb8,Qb3,Bd5,Nc4,Nb6,Nfe5,Nxc4,Nxc4,Bxc4,Rxc4,Rxc4,Qxc4,Rd8,Qc3,Nd5,Qb2,Bf6,Qb1,Bxa1,Qxa1,Nxb4,Bc3,Nc2,Qc1,Nb4,Qb2,Rd1+,Bf1,a5,a3,Qb7,axb4,axb4,Qxb4', 'Rxf1+,Kxf1,Qh1#', 'https://lichess.org/training/P7iJh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7ITb', 'Rapid', 'JimGon', 1895, 'dopdopdop', 1773, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,Qb6,Nb3,e6,Be3,Qd8,Bd3,Bb4,O-O,d5,exd5,exd5,Ne2,O-O,c3,Bd6,h3,Re8,Nf4,Bc7,Bc2,b6,Nh5,Qd6,Bf4,Ne5,Re1,g6,Nxf6+,Qxf6,Bg3,Bb7,Re3,Qg5,Nd4,f6,Qe2,Re7,f4,Qh6,fxe5,fxe5,Bxe5,Bxe5,Rxe5,Rxe5,Qxe5,Qf8,Qe6+,Kh8,Rf1,Qe8,Qxe8+,Rxe8,Kf2,Rf8+,Ke2', 'Ba6+,Bd3,Bxd3+,Kxd3,Rxf1', 'https://lichess.org/training/p7ITb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7PdA', 'Rapid', 'Dr-Dang', 1929, 'Sbarbi21', 2053, 'd4,d5,Bf4,Nf6,c4,e6,Nc3,c6,e3,Bd6,Nh3,Bxf4,Nxf4,Nbd7,cxd5,exd5,Bd3,Nf8,O-O,Ne6,Nh5,O-O,Qf3,Nxh5,Qxh5,h6,Qf5,Ng5,Qf4,Be6,Ne2,Nh7,Ng3,Nf6,Qf3', 'Bg4,Qf4,g5,Qe5,Re8', 'https://lichess.org/training/p7PdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P7rqr', 'Rapid', 'Mantiskaridesi', 1893, 'd_a_n_i', 1866, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Nf3,Bg4,Bb5,e6,h3,Bh5,O-O,Ne7,b4,cxd4,cxd4,Nf5,Bb2,Bxf3,Qxf3,Bxb4,a3,Ba5,g4,Nh4,Qg3,O-O,f4,Bb6,Bxc6,bxc6,g5,Nf5,Qf2,Rc8,Nd2,c5,Nf3,a5,Kh1,Qe7,Rfd1,Qa7,h4,cxd4,h5,d3,Qd2,Ng3+,Kg2,Rc2,Kxg3,Rxd2,Rxd2,Rc8,Rxd3,Rc2,Bd4,Bxd4,Nxd4,Rc4,Rb1,Rxd4,Rxd4,Kf8,Rd3,a4,Rc3,d4,Rc4,d3,Kf3,d2,Ke2,Ke7,Kxd2,Qf2+,Kc3,Qe3+,Kb4', 'Qb6+,Kc3,Qxb1', 'https://lichess.org/training/P7rqr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7tl5', 'Classical', 'Eray372995', 1896, 'david-wei', 1959, 'Nf3,d5,d4,e6,c4,c5,Nc3,Nf6,Bg5,cxd4,Nxd4,Be7,e3,O-O,cxd5,Nxd5,Bxe7,Nxe7,Be2,Nbc6,Nxc6,Nxc6,O-O,a6,a3,b5,b4,Bb7,Ne4,Qc7,Nc5,Rad8,Qc2,Bc8,Bd3,Ne5,Be2,Rd6,f4,Nd7,Rac1,Rd8,Bd3,Nf6,Rfd1,Nd5,Bxh7+,Kh8,Kf2,g6,Bxg6,fxg6,Qxg6,Qg7,Qh5+,Kg8,Rd4,Nf6,Rxd6,Rxd6,Qg5,Bd7,Nxd7', 'Ne4+,Ke1,Nxg5', 'https://lichess.org/training/p7tl5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7UCQ', 'Rapid', 'gala22', 1960, 'meysam_po', 1966, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qh5,Be2,Bg4,O-O,O-O-O,h3,Bxh3,gxh3,Qxh3,Nh2,e6,Bg4,Qh4,Qf3,Ne5,Qh3,Qf6,Nf3,Nxg4,Qxg4,h5,Qg3,Bd6,Qg2,h4,d3,h3,Qg4,Nh6,Qxh3,Nf5,Qg4,Rh7,Ne4,Qe7,Nfg5,Rh4,Qf3,Rdh8,Ng3,Nd4,Qxf7,Qxf7,Nxf7,Bxg3,fxg3', 'Rh1+,Kf2,R8h2+', 'https://lichess.org/training/p7UCQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7UQb', 'Classical', 'Pfund', 1690, 'nategreene', 1627, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,cxd4,Nxe4,d5,Qe7,dxc6', 'Nc3+,Qe2,Nxe2', 'https://lichess.org/training/p7UQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7vBL', 'Classical', 'fky2009', 1808, 'ConanTheBarbarian', 1740, 'e4,b6,d4,Bb7,Bd3,e6,Be3,Nf6,Nd2,c5,c3,cxd4,cxd4,d5,e5,Ne4,Bxe4,dxe4,Qc2,Bb4,Ne2,O-O,O-O,Ba6,Nxe4,Qd5,N4g3,Bb7,f3,Nc6,a3,Be7,Rac1,f6,exf6,Bxf6,Qc4,Rad8,Qxd5,Rxd5,Rfd1,e5,dxe5,Rxd1+,Rxd1,Bxe5,b4,Rd8,Rxd8+,Nxd8,Bd4,Bd6,Nf5,Bf8,Nf4,g6,Ng3,Nc6,Bb2,a6,Kf2,Nd8,Ke3,a5,bxa5,bxa5,Kd4', 'Bg7+,Kc4,Bxb2', 'https://lichess.org/training/p7vBL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7X0o', 'Rapid', 'Zamarak', 1978, 'Tariq--Alsaoudi93', 2159, 'e4,c5,f4,d6,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,c4,O-O,cxb3,axb3,g6,Nc3,Bg4,d4,Bg7,e5,dxe5,fxe5,Nxd4,Qxd4,Bxf3,Qxd8+,Rxd8,Rxf3,Bxe5,Be3,Nf6,Rxa6,Bxc3,bxc3,Rd1+,Rf1,Rxf1+,Kxf1,O-O,Rb6', 'Nd5,Rxb5,Nxe3+', 'https://lichess.org/training/p7X0o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7Xb4', 'Rapid', 'HMSMungo', 1941, 'StoicREH', 1954, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,Nc6,Nf3,e6,O-O,Nf6,Qe2,Be7,Bg5,a6,Rad1,Qc7,Rc1,Qb8,Bf4,b5,Bb3,Bb7,Rfd1,Na5,Bc2,Nc4,b3,Ne5,Bxe5,dxe5,h3,O-O,Nh2,Rd8,Rxd8+,Qxd8,Rd1,Qc7,Rd3,Rd8,Rg3,Rd4,Ng4,Nxe4,Nxe4,Bxe4,Bxe4,f5,Bxf5,exf5,Nh6+,Kf8,Nxf5,Qc1+,Kh2,Rd1,Rf3', 'Rh1+,Kg3,Qg5#', 'https://lichess.org/training/p7Xb4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7xdh', 'Rapid', 'Liongrapes', 2073, 'Porcaro', 1986, 'e4,d5,exd5,Qxd5,Nc3,Qa5,b4,Qxb4,Rb1,Qd6,d4,c6,Nf3,Nf6,Bc4,e6,O-O,Be7,Ne5,O-O,Bf4,Qd8,Qf3,Nd5,Nxd5,exd5,Bd3,Nd7,Qh5,Nf6,Qf3,Re8,Rfe1,Bd6,Bg5,Be7,Re2,Rb8,Rbe1,Be6,Qg3,Ne4,Bxe7', 'Nxg3,Bxd8,Nxe2+', 'https://lichess.org/training/p7xdh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P7yI8', 'Classical', 'abhijeetT', 1693, 'm_leali', 1633, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Bd7,g4,Bc6,Nxc6,bxc6,g5,Nfd7,Ne2,Ne5,Nf4,Be7,Bxe6,fxe6,Nxe6,Qd7,Nxg7+,Kd8,Nf5,Nf7,f4,Kc7,Qh5,Nd8,Be3,Qe6,Qf3,Nb7,Nd4,Qc4,f5,Nd7,Ne6+,Kb8,Bd4,Rg8,f6,Qxe6,fxe7,Qxe7,Bf6,Qe6,O-O-O,Rf8,e5,dxe5,Rxd7,Qxd7,Bxe5+,Ka7,Qe3+,c5,Rd1,Qe6', 'Bb8+,Raxb8,Qxe6', 'https://lichess.org/training/P7yI8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p7ZiW', 'Rapid', 'mino1955', 1630, 'coolsathi', 1718, 'e4,e5,Bc4,Nf6,d3,Nc6,a3,Bc5,Nf3,h6,h3,O-O,O-O,a6,b4,Bb6,Nc3,d6,Nd5,Nd4,Nxb6,cxb6,Nxd4,exd4,Bf4,d5,exd5,Nxd5,Bd2,Nc3,Qf3,Qc7,Bf4', 'Qxf4,Qxf4,Ne2+,Kh2,Nxf4', 'https://lichess.org/training/p7ZiW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p81ia', 'Blitz', 'CVD-19', 1621, 'madina25122013', 1711, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,Bg4,Be3,O-O-O,c4,Qe4,Nc3,Bxf3,gxf3,Qh4,Bd3,Nf6,Qe2,e6,O-O-O,Bb4,a3,Bxc3,bxc3,e5,d5,Na5,Kc2,b5,cxb5,Rxd5,Bxa7,Qa4+,Kb1,Qb3+,Qb2,Qa4,Bf5+,Kb7,Rxd5,Nc4,Qb4,Nxa3+,Kb2,Qxa7,Rxe5,Rd8,Qxa3,Qxf2+,Kb3,Ra8,Qc5', 'Qa2+,Kb4,Qa4#', 'https://lichess.org/training/p81ia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p81rJ', 'Rapid', 'kecaba', 1930, 'black866', 1751, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d3,Bb4,Bd2,Bxc3,bxc3,d6,h3,O-O,O-O,Be6,Bb3,Na5,Qc1,Nxb3,axb3,c6,Bxh6,gxh6,Qxh6,Nh7,Rfe1,Qf6,Qe3,Qg6,Kh2,Kh8,d4,exd4,cxd4,a6,e5,dxe5,dxe5,Rg8,Rg1,Rg7,Nd4,Bd5,f3,Rag8,Qf2,Ng5,c4,Be6,Nxe6,Qxe6,f4,Ne4,Qe3,Nd6,Rad1,Nf5,Qf2,Rg3,Qc2,Nh4,Rd6,Qe7', 'Rh6+,Kg7,Qh7+,Kf8,Rxh4', 'https://lichess.org/training/p81rJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P88XH', 'Rapid', 'uthant', 1655, 'icemonkey908', 1769, 'c4,d5,cxd5,Qxd5,b3,e5,Nc3,Qd4,Bb2,Bb4,e3,Qc5,Na4,Qd6,Nf3,Nc6,Bc4,Bg4,O-O,e4,Bxf7+,Kxf7', 'Ng5+,Ke8,Qxg4', 'https://lichess.org/training/P88XH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P8bT7', 'Rapid', 'themunky', 2238, 'ophilanna', 2165, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,h6,Bh4,Nbd7,O-O-O,Qc7,Kb1,b5,g4,g5,fxg5,Ne5,Qe2,Nfxg4,Bh3,hxg5,Bxg4,Rxh4,Bf5,b4,Nd5,exd5,exd5,Rxd4,Rxd4,Bxf5,Rxb4,Qa5,a3,Rc8,Rc1,Qxd5,Qxa6,Be6,c4,Qd3+,Ka1,Rxc4,Rbxc4,Nxc4,Qa8+,Bd8,Qc6+,Kf8,Qa8,Ke7,Qb7+,Kf6,Qb8,Be7,Qh8+,Kg6,Qg8+,Kh5,Qh8+,Kg4,Rg1+,Kf5', 'Qh7+,Kf6,Qxd3', 'https://lichess.org/training/P8bT7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p8dAR', 'Rapid', 'santhoshyam', 1635, 'triqui', 1750, 'b3,e5,Bb2,Nc6,Nf3,e4,Nd4,Nxd4,Bxd4,d5,e3,Nf6,f3,exf3,Qxf3,Bg4,Bxf6,Bxf3,Bxd8,Rxd8,gxf3,Be7,d4,f5,Bd3,g6,h4,a5,h5,Kf7,hxg6+,hxg6,Rxh8,Rxh8,Nd2,Bb4,O-O-O,c6,e4,dxe4,fxe4,Rh4,exf5,gxf5,Bxf5,Rxd4,Nf3', 'Ba3+,Kb1,Rxd1#', 'https://lichess.org/training/p8dAR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P8dk4', 'Rapid', 'Vengs', 1658, 'VonMidoranda', 1620, 'e4,c5,Nf3,e6,d4,Nc6,d5,exd5,exd5,Nb8,Bd3,Nf6,O-O,Nxd5,c4,Nf6,Nc3,d6,b3,Be7,Bb2,a6,Ng5,Be6,Re1,Qd7,Nd5,Nxd5,Nxe6,fxe6,cxd5,e5,a4,O-O,Qh5,h6,Re3,Rf7,Rg3,Bf6,Qxh6,Kf8,Qg6,Ke7,Bf5,Qc7,Rh3,Nd7,Be6,Rff8,Rh8,Rxh8,Qf7+,Kd8,f4,Nb6,Qg6,Rh6,Qf5,Ke7,fxe5,dxe5,Rd1,Rd8,g4,g6,Qf3,e4,Qxf6+,Ke8,Be5,Qe7,Qf4,g5,Qg3,Rxd5', 'Bxd5,Nxd5,Rxd5', 'https://lichess.org/training/P8dk4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p8GLA', 'Rapid', 'DVRazor', 2473, 'TheDarkPhoenixx', 2349, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,a6,f3,b5,a4,b4,Nd5,Nxd5,exd5,Bg7,a5,Bb7,Bc4,Qc7,Bb3,Nd7,Nc6,Bxb2,Bd4,Bxd4,Qxd4,Nf6,O-O,O-O,Rfe1,Bxc6,dxc6,e5,Qb6,Rfc8,Ba4,Ne8,Qxb4,Rab8,Qc4,Qxa5,Bb3,Qb6+,Kh1,Rc7,Rxa6,Qb4,Qxb4,Rxb4,Ra8,Kf8,Rea1,Rxc6,Ba4,Rxa4,R8xa4,Rxc2,Kg1,Ke7,Ra8,h5,R1a7+,Rc7', 'Rxe8+,Kxe8,Rxc7', 'https://lichess.org/training/p8GLA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p8JJy', 'Classical', 'Winningchances', 1673, 'Tower_of_Power', 1698, 'd4,Nf6,Bf4,e6,e3,b6,Nf3,Bb7,c3,c5,Nbd2,cxd4,cxd4,Nc6,a3,d6,Bb5,a6,Bd3,e5,dxe5', 'dxe5,Qe2,exf4', 'https://lichess.org/training/p8JJy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p8KNj', 'Rapid', 'Butschkau', 2026, 'Cap1212', 1922, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nf3,b6,e3,Bb7,Bd3,c5,b3,Nd7,Rc1,O-O,h4,h5,Bh7+,Kxh7,Ng5+,Bxg5,hxg5,Qxg5', 'Rxh5+,Qxh5,Qxh5+', 'https://lichess.org/training/p8KNj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P8MfL', 'Rapid', 'Kobracan', 1909, 'Dani_14', 1828, 'd4,e6,Nf3,d5,Bf4,c5,e3,Qb6,Nbd2,cxd4,exd4,Qxb2,Bd3,Nc6,Rb1,Qa3,O-O,Nge7,Rb3,Qa5,c4,Nb4,Bb1,Nxa2,cxd5,Nc3,Qe1,Nexd5,Nc4,Qa1,Bd6,Nxb1,Rxb1,Qa6,Bxf8,Qxc4,Bxg7,Rg8,Qe5,Nc3,Rbe1,Bd7,Ng5,Bb5,Kh1,O-O-O,Nxf7,Rxd4,Nd6+,Rxd6,Qxd6,Rxg7', 'Qf8+,Kc7,Qxg7+', 'https://lichess.org/training/P8MfL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p8qDK', 'Rapid', 'Kloppo09', 1923, 'Rijahas', 1835, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Be2,b6,Be3,Bb7,d5,Ne8,g4,c6,Nf3,cxd5,cxd5,d6,Qd2,Nd7,O-O-O,Ne5,Nxe5,Bxe5,f4,Bg7,h4,Nf6,h5,Rc8,Kb1,Qd7,Rdg1,e6,hxg6,fxg6,g5,Nxe4,Nxe4,Bxd5,Bd3,Qa4,a3,Qb3,Nc3,Bxc3,Qh2,Qa2+,Kc1,Qa1+,Bb1,Bxb2+,Kd2,Bxh1,Rxh1,Bc3+,Kd3,Rf7,Ba2,Qb2,Bxe6,Qb5+,Ke4,Re8', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/p8qDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p8QYR', 'Blitz', 'FM SpeedMonkey', 2535, 'IM Faceless_Trickster', 2716, 'e4,c5,Nc3,a6,g3,b5,Bg2,Bb7,Nge2,e6,d4,cxd4,Nxd4,Nf6,O-O,b4,Na4,Bxe4,Bxe4,Nxe4,Re1,Nc5,c4,Nxa4,Qxa4,Bc5,Nb3,Be7,Na5,O-O,a3,bxa3,b4,Qb6,Bxa3,Nc6,Nxc6,Qxc6,Qb3,Qb7,Reb1,Rfc8,Bc1,Qc6,b5,axb5,cxb5,Qb7,Be3,Bf6,Rxa8,Rxa8,b6,d5,Rc1,d4,Bf4,e5', 'Rc7,Ra1+,Bc1,Qxc7,bxc7,Rxc1+,Kg2', 'https://lichess.org/training/p8QYR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P8uQY', 'Blitz', 'billybrig', 1802, 'IM Crew64Alex', 1875, 'e4,d5,exd5,Nf6,Bb5+,Nbd7,Nc3,a6,Ba4,b5,Bb3,Nc5,d4,Nxb3,axb3,Bb7,Nf3,Nxd5,O-O,e6,Nxd5,Bxd5,c4,bxc4,bxc4,Bxc4,Bg5,f6,Bf4,Bd6,Bxd6,Qxd6', 'Qa4+,Bb5,Qxb5+,axb5,Rxa8+,Kf7,Rxh8', 'https://lichess.org/training/P8uQY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p8Urh', 'Classical', 'xgior', 1783, 'jchess121', 1784, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Nge2,Nf6,d4,c6,g3,Nd5,Be3,Nxe3,fxe3,Qxe3,Bg2,Bg4,Rf1,Bxe2,Nxe2,e6,Rf3,Qg5,Nf4,Qa5+,c3,Bd6,Qb3,Qb6,Qxb6,axb6,O-O-O,Rxa2,Kb1,Ra5,Nd3,O-O,Rdf1,f6,Bh3,f5,Re1,Rf6,b4,Ra3,Kb2,Ra8,c4,Nd7,c5,bxc5,dxc5,Bc7,Rfe3,Rh6,g4,fxg4,Bxg4,Rxh2+,Kb3,Nf6,Bxe6+,Kf8,Bc4,Nd5,Rf1+,Kg8,Re7,Bg3,Rff7,Nxe7,Rxe7+,Kf8,Rxb7,Rh6,Rf7+,Ke8,Rxg7,Bh2', 'Rg8+,Ke7,Rxa8', 'https://lichess.org/training/p8Urh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P8uZ7', 'Blitz', 'lancerisimo', 2130, 'thekop_27', 1804, 'e4,g6,d4,Bg7,Nc3,d6,Bc4,e6,Be3,Ne7,Bb3,O-O,Qd2,Nbc6,Nge2,f5,f3,Na5,Bh6,Nxb3,axb3,c6,h4,Qb6,h5,fxe4,fxe4,e5,hxg6,exd4,Bxg7,dxc3,Qh6', 'Qf2+,Kd1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/P8uZ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p8wwf', 'Rapid', 'uini', 1615, 'Dawbur', 1633, 'd4,Nf6,e3,d5,Bd3,Bg4,f3,Bh5,Ne2,e6,Nd2,c5,c3,Be7,O-O,O-O,Bb1,Bg6,Bxg6,hxg6,e4,dxe4,fxe4,cxd4,cxd4,Nc6,Nf3,Nxe4,Qd3,Nd6,Ne5,Nxe5,dxe5,Nf5,Qe4,b6,Bf4,Rc8,Rfd1,Qe8,Ng3,Qb5,b3,Rfd8,Qb7,Bc5+,Kh1,Rxd1+,Rxd1,Qc6,Qxa7,Ra8,Qxa8+,Qxa8,Ne4,Qxa2,Rd8+,Kh7', 'Ng5+,Kh6,Rh8#', 'https://lichess.org/training/p8wwf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P8WWq', 'Blitz', 'hitsuzen', 1880, 'Koba-seliger', 1768, 'e3,d6,c4,e5,Nc3,f5,d4,Be7,dxe5,dxe5,Qxd8+,Bxd8,Nf3,Nc6,Be2,Nf6,a3,O-O,O-O,Kh8,b4,Be6,Bb2,e4,Nd4,Nxd4,exd4,c6,Rad1,Bc7,f3,exf3,gxf3,Rad8,Kf2,Nh5,Kg1,Nf4,d5,cxd5,cxd5,Nxe2+,Nxe2,Bxd5,Rc1,Bb6+,Kg2,Rfe8,Nf4,Bc6,Rfe1,Rd2+,Kg3,Rxe1,Bxg7+,Kxg7,Rxe1,Ra2,Nh5+,Kg6,Nf4+,Kg5,Re6,Bc7', 'h4#', 'https://lichess.org/training/P8WWq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P8xUU', 'Blitz', 'Morphy1234', 1955, 'Voco', 2077, 'e4,e5,g4,h5,gxh5,Nf6,d4,Nxh5,dxe5,Bc5,Nc3,d6,Be3,Bxe3,fxe3,Qh4+,Ke2,Bg4+,Nf3,f5,exf6,Nxf6,Bg2,O-O,Qe1,Qh5,Qg3,Nc6,Raf1,Ne5,h3,Bxf3+,Bxf3,Qf7,h4,Qc4+,Kd2,Nxf3+,Qxf3,Rae8,h5', 'Nxe4+,Qxe4,Rxe4,Rxf8+,Kxf8', 'https://lichess.org/training/P8xUU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P8Yiy', 'Rapid', 'hdyat-bung', 1938, 'neoser16', 1839, 'e4,g6,f4,Bg7,Nf3,b6,Bc4,Bb7,O-O,e6,Nc3,Nh6,d4,O-O,f5,exf5,exf5,Nxf5,Bg5,Bxf3,Rxf3,Qxg5,Ne4,Qh5,c3,Nh4,Be2,Nxf3+,Bxf3,Qf5,Ng3,Qb5,Bxa8,Qxb2,Bd5,Qxc3,Rc1,Qxd4+,Qxd4,Bxd4+,Kh1,c6,Bb3,Na6,Rd1,c5,Ne4,Kg7,h3,Nb4,Nd6,f5,Nb5,a5,Nxd4,cxd4,Rxd4,Rd8,Rd6,Rb8,Rxd7+,Kh6,Kh2,Nc6,Rd6,Ne5,a4,Kh5,Re6,Nd3,Re7,h6,g3,Nc5,Bd1+,Kg5,Rc7,Rb7,Rc6,h5,Bc2,Rb8,h4+,Kh6,Bxf5,Rg8,Bc2,Rd8,Kh3,Nd7,Bxg6,Ne5,Rxb6,Nxg6,g4,hxg4+,Kxg4,Rd4+,Kf5,Rf4+,Ke6,Rxa4,Kf7,Rf4+,Kg8,Rxh4,Kf7,Ra4,Rxg6+,Kh5,Rg8,Ra1,Ke6,a4,Kd5,a3,Kc4,a2,Kb3,Kh6,Kb2,Rb1+,Kxa2,Rb7,Ka3,Kh7,Rg1,Rb8,Ka4,Rb2,Ka5,Rb8,Ka6,Rb2,Ka7,Rb3,Ka8,Rb2,Ka7,Rb3,Ka6,Rb2,Ka5,Rb7,Ka4,Rb8,Ka3,Ra8+,Kb4,Rb8+,Kc5,Rc8+,Kd6,Rc3,Ke6,Rd3,Kf6,Re3,Kf7,Re4', 'Rh1+,Rh4,Rxh4#', 'https://lichess.org/training/P8Yiy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P90pe', 'Blitz', 'Lekha', 1713, 'danielsimangunsong', 1728, 'e4,d5,e5,Nc6,Nf3,Bg4,d4,e6,h3,Bh5,Nc3,f6,g4,Bg6,Bf4,fxe5,Nxe5,Nf6,Nxg6,hxg6,Qd3,Ne4,Nxe4,dxe4,Qxe4,Qf6,O-O-O,O-O-O,Bg2,Bd6,Bxd6,Rxd6,d5,exd5,Rxd5,Rhd8,Rxd6,Rxd6,Qe8+,Nd8,Qe3,Qd4,Qa3', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/P90pe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P91KK', 'Rapid', 'krutarth15362622', 1766, 'nanardo', 1766, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bd3,Nf6,f4,d6,fxe5,dxe5,O-O,Be7,Be3,O-O,Nc3,Qc7,Qe1,Ng4,Bd2,Qb6+,Kh1,Be6,h3,Nf6,Rb1,Nh5,Be2,Nf4,Bxf4,exf4,Rxf4,Bd6,Rf1,Be5,Bd3,Qc7,Qe3,Rab8,Qf3,a5,Qh5,g6,Qf3,f5,exf5,Bxf5,Bxf5,Rxf5,Qd3,Rxf1+,Rxf1,Rxb2,Qc4+,Kg7,Ne4,Qd7,Ng5,Qd5,Rf7+,Kh6', 'Qh4#', 'https://lichess.org/training/P91KK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P93Wx', 'Blitz', 'DomnulNicolae97', 2161, 'FM Mvlitovicius', 2213, 'e4,c5,Nf3,e6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,Nc3,Nxc3,bxc3,Nc6,exd6,Bxd6,Bb5,Bd7,O-O,O-O,Be3,Ne7,Bd3,Bc6,Qc2,h6,Be4,Rc8,Bd2,Qa5,c4,Qh5,Rfc1,Qg4,Bxc6,Nxc6,Qb3,Nxd4,Nxd4,Qxd4,Be3,Qh4,g3,Qg4,Qxb7,Rc7,Qa6,Bc5,Bxc5,Rxc5,Qxa7,Rfc8,a4,h5,Qb7,h4,Qg2,h3,Qf1,Ra8,f3,Qd4+,Qf2,Rxc4,Qxd4,Rxd4,a5,Rd2,a6,Rg2+,Kh1,Rb2,Rcb1,Rxb1+,Rxb1,Rxa6,Rb8+,Kh7,Rb1,Ra2,g4,Kg6,Kg1,f6,Kh1,e5,Kg1,Kg5,Rf1,Kh4,Rf2,Rxf2,Kxf2,g5', 'Ke3,f5,gxf5', 'https://lichess.org/training/P93Wx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P95hy', 'Rapid', 'Superpal', 1657, 'AAAhmed_889', 1650, 'e4,e5,Nf3,Nf6,Nxe5,Bc5,d4,Bb6,Nc3,d6,Nc4,O-O,Bg5,h6,Bxf6,Qxf6,Nxb6,axb6,Be2,Nc6,d5,Ne5,O-O,Qg6,Bh5,Qf6,f4,Nc4,Qc1,Qh4,Be2,b5,Nxb5,Nb6,Nxc7,Ra4,Bd3,Bd7,e5,dxe5,fxe5,Rg4,d6,Rxg2+,Kxg2,Bh3+,Kh1,Nd5,Qd1,Ne3,Qf3,Bg2+,Qxg2,Nxg2,Kxg2,Qg5+,Kh1,Qxe5,Rad1,Rd8,Rf5,Qxd6,Rd5,Qc6,c4,Qxc7', 'Rxd8+,Qxd8,Bh7+,Kxh7,Rxd8', 'https://lichess.org/training/P95hy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P96Zm', 'Rapid', 'Zhevna', 1854, 'rusmanizza', 1880, 'd4,c5,e3,e6,c4,Nc6,Nf3,d5,Nc3,dxc4,Bxc4,cxd4,exd4,Bb4,O-O,a6,Bg5,Nge7,d5,Bxc3,bxc3,exd5,Bxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/P96Zm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P99aq', 'Classical', 'Shlezy', 1661, 'EfeYMN2010', 1647, 'e4,e5,Nf3,Nc6,Bb5,a6,Bc4,b5,Bd5,Bb7,Nc3,Nf6,Bxc6,Bxc6,Nxe5,Bxe4,Nxe4,Nxe4,Qf3,Nd6,O-O,Be7,d4,O-O,Qg4,g6,Nxd7', 'f5,Qg3,Qxd7', 'https://lichess.org/training/P99aq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p9bQ1', 'Rapid', 'Schleimbeutel', 1928, 'yayitohammy', 1942, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bf5,Be2,Nf6,O-O,e6,h3,Be7,c4,dxc4,Bxc4,O-O,a3,Nbd7,Nc3,Nb6,Ba2,Rc8,Be3,Nbd5,Nxd5,Nxd5,Rc1,Nxe3,fxe3,h6,Qd2,Qb6,Ne5,Rxc1,Rxc1,Rd8,b4,Qb5,Rc7,Kf8,Bc4', 'Qxe5,dxe5,Rxd2', 'https://lichess.org/training/p9bQ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9GJW', 'Classical', 'bochu03', 1640, 'viktor36', 1629, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Bd2,Ng4,Qf4,d6,Bc4,Nh6,Qf3,Nd4,Qc3,Qf6,Nf3,Ng4,Qxd4,Qxd4,Nxd4,c5,Nf3,Be7,Nc3,O-O,h3,Ne5,Bb3,c4,Ba4,a6,b4,b5,Nd5,Bf6,Bb3', 'Nxf3+,gxf3,Bxa1', 'https://lichess.org/training/P9GJW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p9gPP', 'Rapid', 'Cureton', 2042, 'relampago11', 2116, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,Ndb5,Qb8,Be3,a6,Nd4,Qc7,Qd2,Nf6,O-O-O,Bb4,f3,Ne7,Nde2,d5,exd5,Nexd5,Kb1,O-O,Nxd5,Nxd5,Qd4,b6,Nf4,Nxe3,Qxe3,Bc5,Qd2,Bb7,Bd3,Rfd8,Nh5,Qe5,Ng3,a5,Rhe1,Qf6,Qe2,a4,a3,Bxa3,bxa3,Qc3,Qe3,g6,Be4', 'Rxd1+,Rxd1,Qxe3', 'https://lichess.org/training/p9gPP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9Isb', 'Blitz', 'Alois12e', 2382, 'NM Artak_Manukyan', 2399, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,d5,e3,O-O,Bd3,b6,O-O,Ba6,Bxa6,Nxa6,c3,c5,h3,c4,Ne5,Nb8,Qc2,Nfd7,Nxd7,Qxd7,e4,e6,exd5,exd5,Rfe1,Nc6,Nf3,b5,a3,a5,Ne5,Nxe5,dxe5,d4,cxd4,Qxd4,Rad1,Qc5,Qe4,Rae8,Rd5,Qc6,Bf4,Rd8', 'Rxd8,Qxe4,Rxf8+,Kxf8,Rxe4', 'https://lichess.org/training/P9Isb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9JDl', 'Rapid', 'catafalque', 1698, 'davidallan', 1708, 'd4,d5,c4,c6,Nf3,Nf6,e3,Bf5,Nc3,e6,Nh4,Bg4,f3,Bh5,g4,Bg6,Nxg6,hxg6,cxd5,cxd5,Bb5+,Nc6,Bd2,a6,Bxc6+,bxc6,Qa4,Qc7,Ke2,Bd6,h3,Bf8,Rac1,Bd6,e4,Kf8,e5,Nxg4,exd6,Qxd6,hxg4,Rh2+,Rxh2,Qxh2+,Kd3,Qf2,Qxc6,Qxf3+,Kc2,Re8,Kb1,Qxg4,Qxa6,Qxd4,Qd6+,Kg8,Qd7,Rb8,Rf1', 'Qd3+,Ka1,Qxf1+', 'https://lichess.org/training/P9JDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9laN', 'Classical', 'mariansklenar', 1940, 'SEEMEPLAY', 1952, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,d4,cxd4,Qxd4,Ngf6,c4,g6,Nc3,Bg7,Be3,O-O,Qd3,Ng4,Bd4,Nde5,Bxe5,Nxe5,Qe2,Nxf3+,Qxf3,Rc8,Qd3,Qc7,Nd5,Qxc4,Nxe7+,Kh8,Qxd6,Qxe4+,Kf1,Rc2,Re1,Qc4+,Kg1,Qe2,Rf1,Rd2,Qa3,Qxf2+,Rxf2', 'Rd1+,Rf1,Bd4+,Qe3,Bxe3#', 'https://lichess.org/training/P9laN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9LWI', 'Blitz', 'sheldon66', 1668, 'SeppppO', 1733, 'c4,g6,Nc3,Bg7,g3,d6,Bg2,e5,e3,f5,Nge2,Nf6,O-O,O-O,d4,Be6,b3,e4,d5,Bf7,Rb1,Nbd7,Bb2,Nc5,Nf4,Nfd7,h4,Ne5,h5,gxh5,Nxh5,Qg5,Nxg7,Qxg7,Nb5,Bg6,f4,exf3,Bxf3,a6,Nxc7,Qxc7,Qd4,Rae8,e4,fxe4,Bg2,Ncd3,Rxf8+,Rxf8,Ba1,Nf3+,Bxf3,Rxf3', 'Qh8+,Kf7,Qg7+,Ke8,Qxc7', 'https://lichess.org/training/P9LWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9Meq', 'Classical', 'CTORH', 1782, 'shafdanny', 1753, 'd4,d5,Nf3,e6,c3,Bd6,Qb3,Nf6,Bg5,O-O,Bxf6,Qxf6,e3,b6,Be2,c5,O-O,c4,Qc2,h6,h4,e5,g3,e4,Ne1,Bh3,Ng2,Nc6,Rc1,Ne7,Nd2,Nf5,Nf1,b5,Qd1,a5,Bg4,Bxg4,Qxg4,b4,Nf4,Bxf4,exf4,Kh8,Kg2,Rab8,Qe2,Qg6,h5,Qe6,Ne3,Nxe3+,fxe3,a4,a3,b3,Rh1,f5,Rag1,Rf6,Kf1,Kg8,g4,Kf7', 'g5,hxg5,fxg5', 'https://lichess.org/training/P9Meq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9MNO', 'Rapid', 'gibsterblunders', 1817, 'hauZPlays', 1862, 'd4,e5,dxe5,Qe7,Nf3,Nc6,Bg5,Qb4+,Bd2,Qxb2,Nc3,Bb4,Rb1,Qa3,Rb3,Qa5,Qb1,Nge7,e3,Nd5,Nxd5,Bxd2+,Nxd2,Qxd5,Nf3,Nxe5,Nxe5,Qxe5,Be2,Qa5+,c3,b6', 'Qe4+,Kd8,Qxa8', 'https://lichess.org/training/P9MNO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p9Myc', 'Classical', 'Jerochess', 1676, 'Demetrio65', 1701, 'd4,Nf6,Bf4,g6,Nf3,Bg7,e3,O-O,Be2,d6,Nbd2,Nbd7,c3,h6,h4,Re8,Qb3,e5,Bg3,Nb6,dxe5,dxe5,Nxe5,Be6,Qc2,Nfd7,Nec4,Nxc4,Bxc4,Bxc4,Nxc4,Ne5,Rd1,Qe7,Nxe5,Bxe5,f4,Bd6,Bf2,Bxf4,O-O,Bxe3,Rde1,Bxf2+,Qxf2,Qf8,Rxe8,Qxe8,Qf4,Kg7,Qxc7,b6,Qf4,Qe6,b4,Re8,Qc7,Re7,Qf4,Qxa2', 'Qf6+,Kg8,Qxe7', 'https://lichess.org/training/p9Myc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9N5Y', 'Blitz', 'FlashGee', 1737, 'recchi51', 1737, 'd4,e6,e4,c5,d5,exd5,exd5,d6,Nf3,Nf6,Bg5,Bg4,c4,Nbd7,Nc3,Be7,Rc1,O-O,Bd3,a6,O-O,Re8,Bb1,Qb6,Qd3,Bxf3,Qxf3,Ne5,Qe2,Qb4,Qc2,Ng6,b3,Nd7,Bd2,Qb6,Ne4,Nde5,Bg5,Qc7,h4,f6,h5,fxg5,hxg6,Nxg6,Rce1,Bf6,Nxf6+,gxf6,Qc3,Kg7,Qh3,Re5,f4,Rxe1,Rxe1,h6,Qh5,Qf7,Re6,Rd8,Qe2,Nxf4,Qe4,Nxe6,dxe6,Qe7', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/P9N5Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9oOr', 'Classical', 'venafro7', 1896, 'Hervelilichess', 1901, 'e4,c5,Nf3,d6,Bb5+,Nc6,d4,cxd4,Nxd4,Bd7,Nc3,Nf6,O-O,g6,Re1,Bg7,Nxc6,bxc6,Be2,O-O,Be3,c5,e5,Ne8,exd6,exd6,Bf3,Rb8,Rb1,Qa5,Bd2,Qd8,Ne4,Bc6,b3,Qh4', 'Bg5,Qxg5,Nxg5', 'https://lichess.org/training/P9oOr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p9pjz', 'Blitz', 'Barys_KZ', 2366, 'FM Josip_buje', 2398, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,Bd3,Bg4,Nbd2,Bd6,Bg3,O-O,c3,c5,Qc2,c4,Be2,Nc6,O-O,Bxg3,hxg3,b5,e4,a5,Rfe1,b4,exd5,exd5,Ne5,Nxe5,dxe5,Bxe2,Rxe2,Ng4,Rae1,Re8,Nf3,Qd7,Nd4,Rab8,e6,fxe6,Rxe6,Nf6,Qf5,Qf7,Nc6,Rxe6,Rxe6,Re8,Rxe8+,Qxe8,Nxa5,bxc3,bxc3,Qe1+,Kh2,Qxc3,Nc6,Qe1,a4,Qe8,Nb4,Qd8,Nc6,Qc7,Qe6+,Kf8,a5,h5,a6,Ng4+,Kh3,Nxf2+,Kh4,Ne4,Ne5,Nc5', 'Ng6#', 'https://lichess.org/training/p9pjz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p9QMK', 'Classical', 'fierAlbania', 1832, 'Dayswithchess', 1708, 'e4,c6,d4,d5,Nc3,g6,exd5,cxd5,Nf3,Bg7,Bf4,a6,Qd3,Nf6,Be2,Nc6,b4,Nxb4,Qd2,O-O,Nb5,Nxc2+,Qxc2,axb5,Bxb5,Qa5+,Bd2,Qxb5,Rb1,Qa6,Qc5,Bf5,Rc1,e6,Bb4,Rfc8,Qxc8+,Rxc8,Rxc8+,Bf8,Bxf8,Qa5+,Nd2,e5', 'Bb4+,Bxc8,Bxa5', 'https://lichess.org/training/p9QMK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p9QPh', 'Rapid', 'akashnag91', 1741, 'MueveteChile', 1807, 'e4,c5,Nc3,d6,d4,cxd4,Qxd4,Nf6,Qc4,a6,Nf3,b5,Qd4,Nc6,Qd3,Nb4,Qd2,Qa5,a3,Bd7,e5,Ne4,Nxe4', 'Nxc2+,Kd1,Qxd2+,Nexd2,Nxa1', 'https://lichess.org/training/p9QPh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9TvS', 'Blitz', 'Suarez77', 1866, 'marcris', 2055, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,a6,Nc3,Nf6,Bg5,b5,Bd3,h6,Bh4,Be7,O-O,d6,f4,exf4,Rxf4,g5,Rxf6,Bxf6,Bg3,Be6,Nd5,Bxd5,exd5,Ne5,Bf5,Qb6+,Bf2,Qc7,Nd4,O-O,Qh5,Kg7,Be4,Rae8,Nf5+,Kg8,Qxh6,Ng4', 'Ne7+,Qxe7,Qh7#', 'https://lichess.org/training/P9TvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p9VpX', 'Rapid', 'CBird', 1764, 'radudona', 1803, 'e4,e5,Nf3,d6,h3,Be7,Bc4,h6,d4,exd4,Qxd4,Nf6,O-O,Nc6,Qd3,Nh7,Nc3,O-O,Nd5,Na5,e5,Nxc4,Qxc4,Be6,exd6,Bxd6,Qd3,Nf6,Nxf6+,Qxf6,Re1,Bf5,Qb3,b6,Bd2,Be6,Qc3,Qxc3,Bxc3,Rad8,Rad1,a5,Nd4,Bd7,Nf3,Rfe8,Be5,Bxe5,Rxe5,Bb5', 'Rxd8,Rxd8,Rxb5,Rd1+,Kh2', 'https://lichess.org/training/p9VpX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p9vSS', 'Classical', 'unnerum', 2039, 'NFAS', 2088, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e4,O-O,d4,d6,Be2,Nc6,d5,Nb8,O-O,e5,b4,a5,bxa5,Rxa5,Nd2,Ne8,Nb3,Ra8,Be3,f5,f3,Nd7,c5,dxc5,Nxc5,Nxc5,Bxc5,Nd6,Qb3,Bd7,Rfc1,Bh6,Rcb1,b6,Bxd6,cxd6,Qxb6', 'Qxb6+,Rxb6,Be3+', 'https://lichess.org/training/p9vSS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9yQD', 'Rapid', 'Abison', 1727, 'Lacertae', 1701, 'e4,e6,d4,c5,Bc4,Nc6,Nf3,cxd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,O-O,d5,Bd3,Bxc3,bxc3,Nxe4,Bxe4,dxe4,Qxd8+,Kxd8,Bg5+,f6,Rad1+,Ke7,Bf4,Rd8,Rxd8,Kxd8,Rd1+,Ke7,Bd6+,Kf7,c4,e5,Bc7,c5,a4,Be6,Bd6,Bxc4,Bxc5,Rc8,Bxa7,Be2,Rd7+,Ke6,Rd2,Ra8,Rxe2,Rxa7,Rxe4,Kf5,Rb4,h6,h4,g5,g4+,Ke6,hxg5,hxg5,Rb6+,Kf7,Rb4,Kg6,Kg2,f5,Kf3,e4+,Kg3,f4+,Kg2,e3,Kf3,Rc7,c4,Kf6,a5,Rd7,a6,Rd3,a7,Ra3,Rb7,Ke5,c5,Kd5,Rc7,Kd4,c6,Kd3,Rd7+,Kc2,c7,e2+,Kxe2', 'f3+,Kf1,Ra1+,Rd1,Rxd1#', 'https://lichess.org/training/P9yQD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('P9ZHW', 'Blitz', 'CM Skillcam', 2444, 'SeymourScagneti', 2327, 'd4,Nf6,Bg5,Ne4,Bf4,c5,f3,Qa5+,c3,Nf6,d5,g6,e4,d6,Na3,Bg7,Nc4,Qd8,a4,O-O,Bd3,b6,Ne2,Ba6,O-O,Bxc4,Bxc4,Nfd7,Qd2,Ne5,Bb3,f5,Ng3,fxe4,fxe4,Nbd7,Bh6,Nf6,Qg5,Bxh6,Qxh6,Qd7,h3,Rf7,Ne2,Nxe4,Rxf7,Nxf7,Qe3,Nf6,Nf4,Ne5,Ne6,Ne8,Rf1,Ng7,Qh6,Nxe6,dxe6,Qd8,Bd5,Rc8,h4,Kh8,h5,Qg8,hxg6,Qxg6', 'Rf8+,Qg8,Rxg8+', 'https://lichess.org/training/P9ZHW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('p9ZU9', 'Rapid', 'gabynqn', 1943, 'panka2000', 1644, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,Nc6,Be3,e5,Nb3,Be6,Qd2,Be7,O-O-O,h6,Kb1,Rc8,a4,Qc7,g4,g5,h4,Rg8,hxg5,hxg5,Bxg5,Bxb3,cxb3,Nd4,Bc4', 'Nxf3,Qf2,Nxg5', 'https://lichess.org/training/p9ZU9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pa1Wb', 'Rapid', 'Mohamadarja', 1834, 'Utkarsh34789', 1762, 'd4,d5,Nf3,Bf5,e3,e6,c4,c5,cxd5,exd5,Nc3,Nf6,Qa4+,Nbd7,Be2,Be7,O-O,O-O,Qb3,b6,Nd2,c4,Qd1,a5,f3,Qc7,e4,dxe4,fxe4,Bg6,Bxc4,Rad8,d5,Nc5,Nb5,Qb8,Nc3,Ncxe4,Ndxe4,Nxe4,Nxe4,Bxe4,Qg4,Bc5+,Kh1,Qe5,Bg5,Bd6,Bf4,Qxb2', 'Bxd6,Qxg2+,Qxg2,Bxg2+,Kxg2', 'https://lichess.org/training/Pa1Wb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pa3lX', 'Classical', 'Dima20011', 1753, 'stomasg', 1824, 'd4,Nf6,Bg5,Ne4,Bf4,g5,Qd3,gxf4,Qxe4,Bh6,Nf3,Nc6,e3,d5,Qd3,fxe3,fxe3,Bg4,Nc3,Bxf3,gxf3,Qd7,O-O-O,O-O-O,Kb1,Nb4,Qe2,Qe6,e4,dxe4,fxe4,Bg7,h4,Qf6,a3,Nc6,d5,Ne5,d6,Rxd6,Nd5,Qe6', 'Bh3,Kb8,Bxe6', 'https://lichess.org/training/Pa3lX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pa3ns', 'Rapid', 'Jvlima', 1956, 'bbmoro', 1857, 'e4,d5,exd5,Nf6,c4,c6,Nc3,cxd5,cxd5,Nxd5,Bb5+,Nc6,Nf3,Nxc3,bxc3,Bd7,O-O,e6,d4,Be7,d5,Ne5,Bxd7+,Nxd7,dxe6,fxe6,Qb3,Qb6,Qa4,Qc6,Qxc6,bxc6,Nd4,Bf6,Nxe6,Rc8,Bb2,Kf7,Nf4,Rhe8,Rac1,c5,Nd5,c4,Ba3,Nb6,Nxf6,Kxf6,Rfd1,Re2,Rd6+,Kf7,Rcd1,Rce8,Kf1,Rxa2,Bc5,Na4,Bd4,Ree2,Rd7+,Ke6,Rxg7,Nxc3,Bxc3,Rxf2+,Kg1,Rfc2,Re1+,Kd5,Rd7+,Kc6,Rxh7,Rxc3,Rh6+,Kd5,Rd1+,Rd3,Rc1,Rdd2,Rh5+,Ke4,Rh4+,Ke3,g4,Rg2+,Kh1,Kf3,g5,c3', 'Rxc3+,Kf2,Rf4+', 'https://lichess.org/training/Pa3ns');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pa4Ku', 'Rapid', 'aveu', 1788, 'm7mdsayed52', 1729, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,c3,Nf6,b4,Bb6,a4,a6,a5,Ba7,O-O,d6,Qe2,Bg4,h3,Bh5,Be3,O-O,Bxa7,Rxa7,Nbd2,d5,exd5,Nxd5,Bxd5,Qxd5,Rfe1,Rd8,g4,Bg6,Nxe5,Nxe5,Qxe5,Qxd3,Qe3,Qxe3,Rxe3,Rxd2,Re8+,Kh7,Rae1,f5,Rc8,c6,Re7,fxg4,Rcc7,Ra8', 'Rxg7+,Kh8,Rxg6', 'https://lichess.org/training/pa4Ku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pA61D', 'Classical', 'Rashaad_Hussain', 1628, 'Nightking02', 1654, 'd4,d5,e4,e5,dxe5,dxe4,Qxd8+,Kxd8,Nc3,Bf5,f3,exf3,Nxf3,Nc6,Bd3,g6,Bxf5,gxf5,Bg5+,Kc8,O-O-O,b6,a3,Kb7,Rd7,Nh6,Bf6,Rg8,g3,Bg7,Nd5,Rac8,Rd1,Ng4,Nd4,Bh6+,Kb1,Ne3,Nxe3,Bxe3,Nxc6,Kxc6,Rxf7,h6,Rd3,Bg5,Bxg5,Rxg5,Rh7,Rg6,h4,Re6,Re3,Rce8,Rc3+,Kd5,Rhxc7,Rxe5,Rxa7,Re1+,Ka2,R8e3,Rd7+,Ke6,Rxe3+,Rxe3,Rh7,Rxg3,Rxh6+,Ke5,Rxb6,f4,Rb3', 'Rxb3,Kxb3,f3', 'https://lichess.org/training/pA61D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pa7C7', 'Rapid', 'TimahBango', 2267, 'Myandash', 2369, 'e4,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,Bc4,e6,Nc3,Nxc3,bxc3,d5,cxd6,cxd6,Nf3,dxe5,Nxe5,Nd7,Bb5,a6,Bxd7+,Bxd7,Qf3,f6', 'Qh5+,g6,Nxg6', 'https://lichess.org/training/pa7C7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pa8Hs', 'Rapid', 'sutharharish', 1727, 'aziz_taba18', 1743, 'e4,c5,Nf3,Nc6,Nc3,d6,g3,Bg4,Bg2,e5,O-O,Be7,d3,Nf6,Be3,O-O,Re1,Bxf3,Bxf3,Nd4,Bxd4,cxd4,Nb1,b6,a4,Qc7,Qd2,Rac8,c3,h6,c4,a6,a5,b5,cxb5,axb5,Na3,Ra8,Nxb5,Qb7,Qb4,d5,Qb3,dxe4,Bxe4,Nxe4,Rxe4,Rfb8,Rxe5,Bd8,Qd5,Rxa5,Qxb7', 'Rxa1+,Kg2,Rxb7', 'https://lichess.org/training/Pa8Hs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PA9P9', 'Rapid', 'K4R1M', 1612, 'DokuzKalibre', 1608, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Bb3,Bc5,d4,Bb6,Ne5,O-O,O-O,c6,c3,Nd7,Nd3,Qh4,Nf4,Bc7,Qf3,Ndf6,g3,Qg5,Nd2,Bg4,Qd3,Bxf4,gxf4,Qxf4,Nxe4,Qxe4,Qxe4,Nxe4', 'f3,Bh3,fxe4,Bxf1,Kxf1', 'https://lichess.org/training/PA9P9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pa9QU', 'Rapid', 'gotbeer', 1605, 'ulasozgur', 1600, 'e4,c6,Bc4,d5,Bb3,Qb6,exd5,cxd5,Bxd5,Nf6,Bxf7+,Kxf7,Nf3,Bg4', 'Ne5+,Kg8,Nxg4', 'https://lichess.org/training/pa9QU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('paA9A', 'Blitz', 'zsommk', 1933, 'Ally_Mayfair', 2009, 'e4,c5,Nc3,e6,f4,d5,Nf3,dxe4,Nxe4,Nf6,d3,Nc6,Be2,Nd4,O-O,Bd7,c3,Nxe2+,Qxe2,Bb5,c4,Bc6,Ne5,Be7,Nxc6,bxc6,Be3,Nd7,f5,exf5,Rxf5,O-O,Nxc5,Nxc5,Bxc5,Bxc5+,Rxc5,Qd4+,Qf2,Qxd3,Rxc6,Rae8,Rf1,Re2,Qf4,Qc2,Qf3,Qxb2', 'Qxf7+,Rxf7,Rc8+,Re8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/paA9A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PABVg', 'Blitz', 'Paul_Morphy1857', 1962, 'WCM Niusha94', 1975, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Nf3,Nc6,Bc4,Nb6,Bb3,d5,exd6,Qxd6,O-O,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Qf6,cxd4,Nxd4,Na3,h6,Ne4,Qe6,Qxe6,Nxe6,Be3,Nd5,Rfe1,Nxe3,Rxe3,g6,Rc1,Kf7,Nc4,Bg7,b3,Rad8,Ree1,Nd4,Rcd1,e5,Nc5,b6,Nd3,Rhe8,Kf1,e4,Nb4,Nf5,Rxd8,Rxd8,Rxe4,Rd1+,Re1', 'Rxe1+,Kxe1,Bc3+', 'https://lichess.org/training/PABVg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('paBXK', 'Classical', 'Piotrek-19', 1737, 'Idara101', 1777, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,cxb2,Bxb2,e6,Nc3,Nc6,Nf3,Nf6,O-O,Be7,Bd3,O-O,e5,Ng4,Re1,Qb6,Qc2,Nxf2,Qxf2', 'Bc5,Qxc5,Qxc5+', 'https://lichess.org/training/paBXK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('paDjm', 'Rapid', 'hyfe', 1769, 'shtopor', 1667, 'e3,e5,d4,Qf6,dxe5,Qxe5,Nf3,Qf6,Nc3,c6,Bd2,d5,Be2,Be7,O-O,Qg6,Ne5,Qg5,f4,Qh6,Rf3,f6,Rh3,Qxh3,gxh3,fxe5,fxe5,Bxh3,Bh5+,g6,Bg4,Bxg4,Qxg4,Nd7,Rf1,O-O-O,Rf7', 'Nh6,Qe2,Nxf7', 'https://lichess.org/training/paDjm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pAeQe', 'Blitz', 'HysteriaGambit', 1591, 'KIRILL_TUT', 1602, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bd7,Nd5,Nf6,O-O,a6,Bc4,Be7,d4,O-O,Nxf6+,Bxf6,dxe5,dxe5,a4,Bg4,h3,Bh5,Be2,Nd4', 'Nxd4,Bxe2,Nxe2,Qxd1,Rxd1', 'https://lichess.org/training/pAeQe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pAexm', 'Classical', 'chessellis', 1841, 'kirean', 1941, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bxd4,Bxd4,Nf6,e5,Nd5,Bc4,Nb6,Bb3,O-O,O-O,d6,exd6,Qxd6,Bc3,Qxd1,Rxd1,Bg4,f3,Bf5,Nd2,Rad8,Ne4,a5,a4,Bxe4,fxe4,Rfe8,Rxd8,Rxd8,Rf1,Rd7,e5,Re7,Re1,Nb4,Rd1,Nc6,Bxa5,Rxe5,Bc3,Re8,a5,Nc8,Ba4,N8a7,Bd4,Rd8,c3,Nxa5', 'Bxa7,Rxd1+,Bxd1', 'https://lichess.org/training/pAexm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pAf9g', 'Blitz', 'petrjesuper', 1966, 'cerfly', 1911, 'Nf3,c6,d4,d5,Bf4,Bg4,Ne5,Bh5,h4,f6,Nf3,Nd7,e3,e5,dxe5,fxe5,Bg5,Qa5+,Qd2,Bb4,c3,Bd6,e4,h6,Be3,Ne7,exd5,cxd5,Be2,O-O,Nxe5,Nxe5,Bxh5,Nc4,Qe2,Nf5,Bd4,Rae8,Bxe8,Nxd4,Qh5,Nc2+,Kd1,Nxa1,Re1,Nxb2+,Kd2,Nc4+,Kd3,Nb2+,Kd2,Rxf2+,Re2,Nc4+,Kd3,Nb2+,Kd2,Bf4+,Ke1,Nd3+,Kd1,Qa4+,Bxa4', 'Rf1+,Re1,Rxe1#', 'https://lichess.org/training/pAf9g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PaFG8', 'Rapid', 'akbar2022', 2030, 'fatih21', 2121, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,d3,Qxd5,dxe4,Nxe4,Nc3,Bb4,Nd2,Bxc3,bxc3,f5,Ba3,Kf7,O-O-O,Qxa2,Qc4+,Qxc4,Bxc4+,Be6,Nxe4,Bxc4,Ng5+,Kf6,f4,h6,Nf3,Be2,Rd2,Bxf3,gxf3,Nc6,Rd7,Rac8,Rg1,g5,fxg5+,hxg5,c4,Ne5,Bb2,Ke6,Rg7,Nxc4,Rg6+,Kf7,R6xg5,Nxb2,Rg7+,Ke6,Kxb2,Rxh2,f4,Kd5,Kb3,Ke4,Rf1,Rh4,Re7+,Kd5,c4+,Kd6,Re5,Rxf4', 'Rd5+,Kc6,Rxf4', 'https://lichess.org/training/PaFG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pafkI', 'Blitz', 'RealFlash27', 1901, 'parszek', 1628, 'd4,d5,Nf3,Nc6,e3,Nf6,a3,Bg4,Bd3,Bxf3,Qxf3,e5,dxe5,Nxe5,Qg3,Nxd3+,cxd3,Qd6,Nc3,Qxg3,hxg3,c6,b3,Bd6,Bb2,O-O,Ne2,Nd7,Nd4,g6,O-O-O,a6,Nf3,Rfe8,Rxh7,Kxh7', 'Rh1+,Kg8,Rh8#', 'https://lichess.org/training/pafkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PagNf', 'Rapid', 'Rolfepple', 1935, 'Fateme-King', 1977, 'b4,d5,Bb2,e6,e3,Bxb4,Bxg7,Nc6,Nf3,Bd7,Be2,Qe7,Bxh8,f6,a3,Bd6,c4,O-O-O,cxd5,exd5,Qb3,Be6,Qb2,Rf8,Nd4,Nxd4,Qxd4,Be5,Qxa7,Bxa1,O-O,Nh6,Bxf6,Bxf6,Qa8+,Kd7,Qxb7,Qd6,Rc1,Rg8,Bb5+,Ke7,Rxc7+,Kf8,Qb8+,Bd8,Rf7+', 'Nxf7,Qxd6+,Nxd6', 'https://lichess.org/training/PagNf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('paGTh', 'Rapid', 'alireza666', 2112, 'grossfater', 2195, 'd4,d6,Nf3,Bg4,Bf4,Bxf3,exf3,g6,Be2,Bg7,Qd2,h6,c3,g5,Bg3,c6,Na3,Qc7,h4,gxh4,Rxh4,Nf6,O-O-O,Nbd7,Rdh1,O-O-O,Bf4,h5,g4,hxg4,Rxh8,Rxh8,Rxh8+,Bxh8,fxg4,Qd8,Nc4,Qg8,g5,Nd5,Bg3,Qg6,Bd3,Qh5,f4,Qf3,Bh2,c5,Qe2,Qh1+,Kd2,cxd4,cxd4,Bxd4,Be4,Be3+,Kd3,Qc1,Bxd5', 'Nc5#', 'https://lichess.org/training/paGTh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pAHBg', 'Rapid', 'che55i', 1952, 'smokeweed4200', 1840, 'd4,Nf6,c4,d5,Nf3,Bg4,Qb3,b6,Bg5,dxc4,Qxc4,Bxf3,gxf3,Nbd7,Qc6,e6,Nc3,Bb4,Bxf6,gxf6,Rg1,Ke7,e3,Bxc3+,bxc3,f5,e4,fxe4,fxe4,Nf6,e5,Nd5,Kd2,Qd7,Qc4,Rac8,Bg2,Nf4', 'Bc6,Qxc6,Qxc6', 'https://lichess.org/training/pAHBg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PAi35', 'Classical', 'LM Rochade_Augsburg', 2157, 'bokis2', 1916, 'd4,Nf6,c4,g6,Nc3,d5,Bf4,Bg7,e3,O-O,Nf3,a6,a4,Re8,Qb3,e6,Be2,c5,dxc5,Nc6,cxd5,exd5,O-O,Qa5,Bd6,h6,Rfd1,Nb4,Rd4,Nc6,Rd2,Nb4,Rad1,Be6,Nd4,Bd7,Bf3,Ne4,Bxe4,dxe4,c6,Nxc6,Qxb7,Nxd4,Qxd7,Nb3,Rd5,Qb6,Qc7,Qxc7,Bxc7,Rac8,Rd8,Kh7,Rxe8,Rxe8,Rd5,Rc8,Be5,Nc5,Bxg7,Kxg7,Kf1,f5,Rd6,Kf7,h4,g5,Rxh6,gxh4,Rxh4,Kg6,f3,exf3,gxf3,Nd3,Rh2,Rb8,Rg2+,Kf7,Nd1,Rb4,Rd2,Ne5,f4,Nc4,Rd7+,Ke6,Rc7,Nd6,Ke2,Rxa4,Rc6,a5,Ra6,Kd7,Nc3,Ra1,Kd3,Nb7,Kd4,Re1,Ke5,Rxe3+,Kxf5,Nd6+,Kg4,Nc4,Nd5,Rb3,f5,Rxb2,Ra7+,Kd6,Nf6,Rb4,Kg5,a4,Ra6+,Nb6,Ne4+,Kd5,Nc3+,Kc4,Na2,Rb2,f6,Kb5,f7,Kxa6,f8=Q,Rxa2,Qf1+,Ka5,Qe1+,Kb5', 'Qb1+,Kc5,Qxa2', 'https://lichess.org/training/PAi35');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pAjDs', 'Rapid', 'waterboi', 1610, 'FikroBiH', 1764, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qe6,d3,Nc6,Be2,Bd6,O-O,Nf6,Re1,O-O,Bd2,e4,Ng5,Qe5,f4,exf3,Nxf3,Qc5+,Kh1,Ng4,Rf1,Nf2+,Rxf2,Qxf2,Ne4,Qb6,b3,Ne5,c4,Nxf3,Bxf3,Be5,Rb1,f5,Ng5,Qh6', 'Bd5+,Kh8,Nf7+,Rxf7,Bxh6', 'https://lichess.org/training/pAjDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('paJLj', 'Rapid', 'MANSTRMAG', 1816, 'Lmays', 1821, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,d4,b5,Bb3,Nf6,d5,Na5,Nc3,Nxb3,axb3,Be7,O-O,O-O,h3,Qd7,Qd3,b4,Ne2,c6,dxc6,Qxc6,Ng3,h6,Nf5,Bxf5,exf5,a5,Qe2,e4,Nd4,Qd5,Rd1,Qe5', 'Nc6,Qc5,Nxe7+', 'https://lichess.org/training/paJLj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pAJSG', 'Classical', 'nowucme', 1641, 'Khabo_nurmagomedyan', 1798, 'e4,Nc6,Bc4,e5,Nf3,d6,h3,h6,d3,Be7,Nc3,Nf6,O-O,a6,Nd5,Nxd5,exd5,Na7,Bb3,c6,c4,cxd5,cxd5,O-O,Be3,Nb5,d4,exd4,Nxd4,Nxd4,Bxd4,Bf6,Bc3,Bxc3,bxc3,Qg5,g4,b5,a4,Bd7,c4,bxc4,Bxc4,h5,Be2,g6,Ra3,Kg7,Qd4+,Kg8,f4,Qh4,Qb6,Qf6,a5,hxg4,hxg4,Rfb8,Qc7,Qe7,Bxa6,Qd8,Qxd8+,Rxd8,Be2,Re8,Bf3,Ra7,Ra2,Re7,Kg2,Re3,a6,Bb5,Kf2', 'Rxf3+,Kxf3,Bxf1', 'https://lichess.org/training/pAJSG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pakuZ', 'Blitz', 'Lubitel25', 1876, 'paulgad', 1873, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,e6,Nf3,Nh5,Be3,Bd6,Ne5,Nf6,f4,O-O,O-O,Qc7,Nd2,b6,Qf3,a5,Rf2,Ba6,Bc2,b5,g4,Bxe5,fxe5,Ne8,Qh3,g6,Bg5,b4,Bf6,bxc3,bxc3,Nxd4,cxd4,Qxc2,Rf3,Qxd2,g5,Qxd4+,Kg2,Rb8', 'Qxh7+,Kxh7,Rh3+,Qh4,Rxh4+,Kg8,Rh8#', 'https://lichess.org/training/pakuZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('paleo', 'Rapid', 'GooseEdge', 1714, 'gonzalo08perez', 1817, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d3,Bc5,h3,h6,Be2,a6,O-O,d6,a3,Be6,b4,Ba7,Bb2,Qd7,Nh2,O-O,Kh1,Nd4,f3,Nxe2,Qxe2,Nh7,Nd5,f5,c4,fxe4,dxe4,c6,Ne3,b5,Rad1,Qc8,cxb5,cxb5,Rfe1,Rd8,Nd5,Qb7,Nf1,Ng5,Nfe3,Nf7,Rc1,Rdc8,Rxc8+,Rxc8,Rc1,Rxc1+,Bxc1,Nd8,Qc2,Nc6', 'Qxc6,Qxc6,Ne7+,Kf7,Nxc6', 'https://lichess.org/training/paleo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pALr0', 'Blitz', 'Daniel__11', 1668, 'fishstrong', 1632, 'e4,e5,Bc4,Nf6,Nc3,Nc6,a3,d6,h3,Be7,d3,O-O,f4,exf4,Bxf4,h6,Nf3,a6,O-O,b5,Ba2,Bb7,Qd2,Kh7,Ne2,Nh5,Be3,Ne5,Nxe5,dxe5,Kh2,f6,Ng3,Nxg3,Kxg3,Qe8,Kh2,Qg6,Rf3,f5,Rg3,Qh5,exf5,Rxf5,b4,Bd6,Rg4,Raf8,c4,e4+,Kh1,Rf1+,Rxf1,Rxf1+,Bg1,exd3,Qxd3+,Kh8,Qxf1', 'Qxh3+,Bh2,Qxh2#', 'https://lichess.org/training/pALr0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pAmN8', 'Classical', 'uurpiser', 1615, 'waltgor', 1659, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bd7,O-O,g5,d3,g4,Ng5,f6,Nf3,gxf3,Qxf3,Qe7,Nd5,Nd4', 'Qh5+,Kd8,Nxe7', 'https://lichess.org/training/pAmN8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('paMWW', 'Rapid', 'Z-A-M-B-R-O-TT-A', 1967, 'czechchess', 2178, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,d6,Nc3,a6,Bd2,g6,O-O-O,Bg7,h4,h5,f3,Nf6,Be2,Qc7,Nh3,b6,Nf2,Bb7,g4,O-O-O,g5,Nd7,Nd5,Qb8,Nxb6+', 'Nxb6,Qxb6,Bd4,Qb3,Bxf2', 'https://lichess.org/training/paMWW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pAOtJ', 'Blitz', 'Taven', 1668, 'BarrieDeganwy', 1643, 'e4,d6,Nf3,Nf6,Nc3,c5,h3,a6,d4,cxd4,Nxd4,g6,Bc4,Bg7,Bf4,O-O,O-O,b5,Bd5,Nxd5,Nxd5,Ra7,Be3,Rd7,Bg5,Bb7,Bxe7,Rxe7,Nxe7+,Qxe7,Re1,Re8,f3,Nd7,b4,Ne5,a4,Nc4,axb5,axb5,Ra7,Nb2,Qd2,Qc7,Nxb5,Qb6+,Kh1,Qxb5,Qxd6,Nc4,Qc7,Bc6', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/pAOtJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('paPxy', 'Rapid', 'Nkosikhona', 2191, 'CF77', 2112, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Be2,Nxf3+,Bxf3,Bc5,O-O,d6,c3,Bb6,d4,Be6,d5,Bd7,Be3,f5,Nd2,f4,Bxb6,axb6,c4,Nf6,b4,h5,Be2,g5,f3,g4,Qc2,h4,c5,bxc5,bxc5,h3,gxh3,gxf3,Bxf3,Bxh3,Rf2,Bg4,Rg2,Qd7,c6,bxc6,dxc6,Qe6,a4,Rh3,Bxg4,Nxg4,Qc4,Qxc4,Nxc4,Rh4,h3,Nf6,Rg7,Ra7', 'Nxd6+,Kf8,Rf7+', 'https://lichess.org/training/paPxy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PasJo', 'Rapid', 'ROLAND777', 1717, 'lizardo07', 1764, 'd4,d5,c4,dxc4,Nc3,e6,Nf3,Bb4,Ne5,b5,e4,Bb7,Qh5,g6,Qf3,Nf6,Bg5,Bxc3+,bxc3,Bxe4,Qxf6,Qxf6,Bxf6,O-O,f3,Bb7,g4,Nc6,h4,Nxe5,dxe5,Bxf3,Rg1,a5,Rg3,Bd5,O-O-O,b4,h5,b3,a3,Rab8,Kb2,Be4,Rd4,Bc2,hxg6,fxg6,Rxc4,Rf7,g5,Rd8,Bxd8,Rxf1,a4,Rb1+,Ka3,Ra1+,Kb2,Ra2+,Kc1,Ra1+,Kd2,b2,Rd3,Rd1+,Kxc2', 'b1=Q#', 'https://lichess.org/training/PasJo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pAtEQ', 'Classical', 'SupermindChess', 1770, 'Ehin', 1776, 'd4,g6,e3,Bg7,c4,Nf6,Nc3,O-O,Nf3,d6,Bd3,e6,O-O,b6,b3,Bb7,Re1,Nbd7,e4,c5,Be3,Ng4,Rc1,Nxe3,fxe3,Nf6,d5,e5,a3,a6,b4,Ng4,h3,Nf6,Rf1,Nh5,Qe1,f5,exf5,gxf5,e4,f4,Ne2,Bc8,Nh2,Qe8,Qh4,Bf6,Qf2,Qg6,Bc2,Bxh3,Kh1,Ng3+,Nxg3,fxg3,Qf3,Bd7,bxc5,bxc5,Rb1,gxh2,Rb7,Bg4,Qb3,Be2,Rf2,Bf3,Rxf3,Kh8,Rh3,Rf7,Rb8+,Rxb8,Qxb8+,Kg7,Qxd6,Qg5,Kxh2,Qf4+,Rg3+,Bg5,Qe6,Qh4+,Rh3,Bf4+,g3,Bxg3+,Kg1,Bf2+,Kf1,Bd4+', 'Qxf7+,Kxf7,Rxh4', 'https://lichess.org/training/pAtEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Patij', 'Bullet', 'yanyuchen', 2072, 'Naser004', 2018, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e5,dxe5,Nxe5,Nf3,Ng6,Bc4,Be7,Qd5,Bb4+,Bd2,Bxd2+,Nbxd2,Qe7,O-O,Nf6,Qg5,O-O,e5,Ne8,Qxe7,Nxe7,Ne4,b6,Rfd1,Nc6,Rac1,a5,Bb5,Ra7,Bxc6,dxc6,Rxc6,Bb7,Rc4,Ba6,Rc6,Be2,Re1,Bxf3,gxf3,Nc7,Rxb6,Ne6,Nd6,a4,b3,axb3,axb3,h5,h4,Nf4,Re4,Ra1+,Kh2,Ng6,b4,Rb1,b5,Ra8,Rb7,Raa1,f4,Rh1+,Kg3,Rag1+,Kf3,Nxh4+,Ke2,Rd1,Rb8+,Kh7,f3,f5,exf6,Rxd6,f7,Rhd1,f8=Q', 'R6d2+,Ke3,Ng2#', 'https://lichess.org/training/Patij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('paTNA', 'Rapid', 'KSP1911', 1852, 'Igor_Akimov32', 1849, 'e4,e5,d4,exd4,Bc4,Nf6,e5,d5,Qxd4,dxc4,Qxd8+,Kxd8,exf6,gxf6,Nf3,Be6,O-O,Bg7,Bf4,Nc6,Rd1+,Ke7,Nc3,Ne5,Nxe5,fxe5,Bg5+,f6,Be3,b5,Nd5+,Bxd5,Rxd5,c6,Bc5+,Ke6,Rd6+,Kf5,Rad1,Bh6,Rxc6,Rad8,Rcd6,Rxd6,Rxd6,Kg6,Bxa7,Ra8,Rd7,Bc1,b3,e4,g3,c3,a4,bxa4,bxa4,e3,fxe3', 'Rxa7,Rxa7,Bxe3+,Kf1,Bxa7', 'https://lichess.org/training/paTNA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pAtOl', 'Blitz', 'adamiva5', 2303, 'kpc2209', 2442, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,Bd3,Bb7,O-O,Nc6,Nxc6,Bxc6,Qe2,Qb8,Bg5,Bc5,a4,b4,Nd5,Ne7,Rfe1,f6,Bf4,e5,Qh5+,Ng6,Bg3,O-O,Bc4,Kh8,Kh1,d6,f4,Ra7,Rf1,Bxd5,Bxd5,Ne7,Bb3,Bd4,Rf3,Bxb2,Raf1,Rc7,f5,Rc3,Be1,Rxf3,Rxf3,Qe8', 'Qxh7+,Kxh7,Rh3+,Qh5,Rxh5#', 'https://lichess.org/training/pAtOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PAvvV', 'Blitz', 'IM mutdpro', 2731, 'Ditman1976', 2290, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,Bd6,Bg3,O-O,Nbd2,b6,Bd3,Bb7,O-O,c5,c3,Nc6,Qb1,Ne7,a4,Bxg3,hxg3,c4,Bc2,a6,Ne5,b5,g4,Ng6,Bxg6,hxg6,axb5,axb5,Qc2,Nd7,f4,Nxe5,dxe5,Qb6,Rae1,b4,f5,bxc3,bxc3,exf5,gxf5,gxf5,Qxf5,Ra2,Nf3,Ra3,Ng5,Qg6,Qxg6,fxg6,e6,Re8,Rb1,Rb3,Rxb3,cxb3,Rb1,Bc8,Rxb3,Bxe6,Rb6,Bf5,Kf2,Rc8,Kf3,Rxc3,g4,Be4+,Kf4,Rc8,Rb7,Rf8+,Ke5,Re8+,Ne6,Kh8,Rd7,Bf3,Rxg7', 'Rxe6+,Kxe6,Kxg7', 'https://lichess.org/training/PAvvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pAwj8', 'Blitz', 'improvisator_1', 1958, 'Turetaev', 1899, 'd4,e6,c4,d5,Nf3,c6,Nc3,Nf6,Bg5,Be7,e3,Nbd7,Rc1,dxc4,Bxc4,Nd5,Bxe7,Qxe7,O-O,O-O,a3,N7f6,Ne5,Bd7,Ba2,Qd6,Bb1,g6,e4,Nxc3,Rxc3,Kg7,f3,Rad8,b4,Bc8,Rd3,b6,Qd2,Ba6,Rc3,Bxf1,Nxc6,Rc8,e5,Qd7,exf6+,Kxf6,Ne5,Qd5,Kxf1,Rxc3,Qxc3,Rd8,Nc6,Rc8,Be4,Qd7,d5+,Kg5,Qe5+,f5,dxe6,Qd1+,Kf2,Qd2+,Kg3', 'Qe1+,Kh3,Qh4#', 'https://lichess.org/training/pAwj8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('paXEL', 'Blitz', 'kingbolito', 1670, 'moolla', 1684, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bd3,cxd4,cxd4,Bd7,Nc3,a6,Bg5,h6,Bf4,g5,Bg3,Nf5,Bxf5,exf5,h3,f4,Bh2,Bb4,O-O,Be6,a3,Ba5,g3,Bxh3,Re1,Qb6,gxf4,gxf4,Bxf4,O-O-O,Rb1,Rdg8+,Kh2,Bg4,Nxd5,Qd8,Nb4,Bxf3,Qxf3,Qh4+,Qh3+,Rg4,Qxh4,Rxh4+,Kg3,Rh5,Rbc1,Rg8+,Kf3,Kd7,Nxc6,Bxe1,Rxe1,Kxc6,e6,Rh3+,Bg3,fxe6,Rxe6+,Kd7,Rd6+,Kc8,Kg2,Rh5,b4,Re8,Rf6,Rh8,Rf3,Rd5,Rd3,Rd7', 'Rc3+,Kd8,Bh4+,Ke8,Rc8+,Kf7,Rxh8', 'https://lichess.org/training/paXEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PaxTE', 'Rapid', 'nnamesn', 1793, 'Darlene1702', 1790, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nge2,Nf6,O-O,O-O,d3,d6,f4,Qb6,Rb1,Bg4,h3,Bd7,Be3,Qc7,Qd2,Nh5,Rf3,Nd4,Nxd4', 'cxd4,Nd5,dxe3,Nxc7,exd2', 'https://lichess.org/training/PaxTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('paxuL', 'Rapid', 'meerkat568', 1813, 'greenmagma', 1754, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,O-O,h3,Re8,d4,Bf8,Bg5,h6,Bh4,Bb7,a4,g5,Bg3,Nh5,Nxe5,Nxg3,Nxc6,Bxc6,Qf3,Nxe4', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/paxuL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PazlG', 'Rapid', 'ChessClashRoyale', 2077, 'rezamirshafiee', 1966, 'd4,e6,e4,d5,Nc3,Nf6,e5,Nfd7,Nf3,Be7,h4,c5,Bd3,h6,Bf4,Nc6,dxc5,Nxc5,Nb5,a6,Nd6+,Bxd6,exd6,Nxd3+,cxd3,O-O,d4,Qb6,b3,Qb4+,Qd2,Qxd2+,Kxd2,Bd7,Rhc1,Rac8,a3,f6,Ke2,Nxd4+,Nxd4,e5,Be3,exd4,Bxd4,Rfe8+,Kd2,Re4,Rxc8+,Bxc8,Bb6,Bd7,Rc1,Re6,Bc7,Bc6,g3,Kf7', 'Rxc6,bxc6,d7', 'https://lichess.org/training/PazlG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PB1hx', 'Classical', 'Rarest', 1609, 'capobruno', 1636, 'e4,c5,d4,cxd4,Qxd4,e6,Bb5,a6,Ba4,b5,Bb3,Nc6,Qd1,Bb7,Nc3,h6,Nf3,g6,e5,Bg7,Bf4,Nge7,a3,Na5,Nd4,Bxg2,Rg1,Bb7,Qd2,Nxb3,cxb3,Bd5,O-O-O,Rc8,Kb1,Nc6,Nxd5,exd5,Rge1,Nxd4,Qxd4,O-O,Qxd5,Qh4,Bg3,Qg5,h4,Qf5+,Ka2,Rcd8,Re4,Qe6,Qb7,Qc6,Qxc6,dxc6,Rd6,Rc8,e6,fxe6,Rexe6,Rf6', 'Rxf6,Bxf6,Rxf6', 'https://lichess.org/training/PB1hx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pb1Ln', 'Rapid', 'Artak_Karavardanyan', 1739, 'craus', 1635, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Bc5,d4,Bb6,Bxf4,d6,O-O,Bg4,Qe1,Nxd4,Nxd4,Bxd4+,Kh1,Bxb2,Nd2,Bxa1,Qxa1,Nf6,Bg5,h6,Bxf6,gxf6,Rxf6,c6,Bxf7+,Kd7,Be6+,Bxe6,Rxh6,Rxh6,Qg7+,Qe7,Qxh6,Rf8,Nf3,d5,e5,Qb4,Qg7+,Kc8,h3,Rxf3,gxf3,Qe1+,Kg2,Qe2+,Kg3,Qxc2,Qf8+,Kd7', 'Qd6+,Ke8,Qxe6+', 'https://lichess.org/training/Pb1Ln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pb3gs', 'Blitz', 'alexhanh', 1735, 'crystal_lake2', 1702, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bc5,d3,d6,O-O,h6,h3,a6,Bxc6+,bxc6,a3,Qe7,Be3,Bb6,Qe2,O-O,Kh1,d5,Bxb6,cxb6,exd5,cxd5,Qxe5,Qd7,Rfe1,Re8,Qd4,b5,Rxe8+,Qxe8,Nxd5,Nxd5,Qxd5,Be6,Qb7,Qd8,Re1,Bd5,Qe7,Qc8,Nd4', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/pb3gs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PB3Yo', 'Rapid', 'shlagamugi', 1650, 'vic999', 1826, 'e4,c5,Nf3,Nc6,d4,e6,d5,exd5,exd5,Nb4,d6,Nc6,Bb5,Qf6,Qe2+,Qe6,O-O,Qxe2,Bxe2,Bxd6,Re1,Nge7,Bd3,O-O,Ng5,Ng6,Nc3,Bc7,Nd5,Bb6,c4,d6,h4,h6,Bxg6,hxg5,Bd3,gxh4,Re4,h3,Rh4,g6,Rxh3,Bxh3,Bh6,Rfe8,Nf6+,Kh8,Nxe8,Rxe8,gxh3,Kh7,Bd2,Nd4,Kh1,Bc7,Rg1,Nf3,Rd1,b6,Bc3,Ng5,Bf1,Ne4,Be1,Re5,Bg2,Ng5', 'f4,Rf5,fxg5', 'https://lichess.org/training/PB3Yo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PB7D3', 'Rapid', 'ofac63', 2104, 'joseigal', 1904, 'e4,c5,Bc4,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,O-O,Bg7,Bg5,Qa5,Ncb5,a6,Nb3,Qd8,Nc3,O-O,Qd2,b5,Bd3,Ne5,Bh6,Bb7,Bxg7,Kxg7,f4,Nxd3,cxd3,Qb6+,Kh1,e5,f5,b4,Ne2,d5,d4,Nxe4,f6+,Kg8,Qh6,Nxf6,dxe5,Ng4,Qf4,Rae8,Qxg4,Rxe5,Nbd4,Re4,Qd7,Bc8,Qxd5,Bb7,Qd7,Bc8,Qc6', 'Qxc6,Nxc6,Rxe2', 'https://lichess.org/training/PB7D3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PB9Gc', 'Classical', 'Milad1982', 1656, 'Sevan-94', 1736, 'd4,d5,c4,e5,dxe5,d4,Nf3,c5,Bf4,Be6,e3,Nc6,exd4,cxd4,Bd3,Bb4+,Nbd2,Nge7,O-O,Ng6,a3', 'Nxf4,axb4,Nxd3', 'https://lichess.org/training/PB9Gc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PBA3n', 'Classical', 'adilsonconciani', 1931, 'Eni_Oro', 1874, 'e4,e5,Nf3,Nc6,Bc4,g5,d3,g4,Nfd2,Nf6,Nc3,Nd4,Nb3,Nc6,Bg5,h5,Qe2,a6,Nd5,Bg7,Nd2,Nd4,Qd1,b5,Bb3,Bb7,Nxf6+,Bxf6,Be3,Nxb3,Nxb3,d5,exd5,Bxd5,Rg1,e4,d4,Bxb3,cxb3,Qd6,h3,gxh3,gxh3,O-O-O,Qe2,Bxd4,Rd1,Qb4+,Kf1,Bxb2', 'Rxd8+,Rxd8,Qxb2', 'https://lichess.org/training/PBA3n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBbd2', 'Classical', 'pierre3007', 1910, 'joshua129', 1850, 'e4,e6,d4,d5,e5,c5,c4,Nc6,dxc5,Bxc5,cxd5,exd5,Bb5,Bd7,Qxd5,Qb6,Be3,Bxe3,fxe3,Qxe3+,Ne2,Qxe5', 'Bxc6,Qxd5,Bxd5', 'https://lichess.org/training/pBbd2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBbmF', 'Rapid', 'medveckijjvasilijj', 1930, 'simonc', 1765, 'Nf3,c5,e4,e6,d4,cxd4,Qxd4,Nc6,Qe3,d6,Bb5,Bd7,O-O,Be7,c3,a6,Ba4,b5,Bc2,e5,Qe2,Nf6,h3,O-O,Bg5,Rc8,Nbd2,Be6,a4,Rb8,axb5,axb5,Rad1,Qc7,Nb3,Qb6,Be3,Qc7,Bg5,Qb6,Bh4,Rbd8,g4,h6,Bxf6,Bxf6,Kh2,Bg5,Nxg5,hxg5,Nd2,f6,Qe1,Na5,Nf3,Bc4,Rg1,d5,Rg2,Nc6,b3,dxe4,Rxd8,Qxd8,Nxg5,fxg5,bxc4,bxc4,Bxe4,Qf6,f3,Qf4+,Kh1,Ne7,Qf1', 'Qxe4,fxe4,Rxf1+', 'https://lichess.org/training/pBbmF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PbCfj', 'Blitz', 'J_B13B3R', 2235, 'xueri', 2212, 'd4,Nf6,Bg5,c5,d5,Qb6,Nc3,Qxb2,Bd2,Qb6,e4,e6,Rb1,Qd8,a4,d6,Bb5+,Nbd7,dxe6,fxe6,Nf3,a6,Bxd7+,Qxd7,O-O,Be7,e5,Ng4,exd6,Bxd6,h3,Ne5', 'Nxe5,Bxe5,Qh5+,Qf7,Qxe5', 'https://lichess.org/training/PbCfj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBCSO', 'Blitz', 'topoftheline', 1762, 'adrian55', 1751, 'd4,e6,e4,Nf6,Bd3,Be7,c3,O-O,e5,Nd5,f4,Bh4+,g3,Be7,h4,f6,c4,Nb4,Be4,fxe5,a3,N4c6,fxe5,d5,Bc2,dxc4,Nf3,Qe8,Bxh7+,Kxh7,Ng5+,Kg8,Qc2,g6,h5,Bxg5,hxg6,Bxc1,Rh8+,Kxh8', 'Qh2+,Bh6,Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/pBCSO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PBCYa', 'Classical', 'Y_MAKAR', 1761, 'venkata722', 1757, 'e4,c5,d3,Nc6,Nf3,d6,Nc3,Nf6,h3,e6,Nh2,Be7,Bg5,h6,Bh4,b6,Be2,Bb7,O-O,O-O,f4,d5,e5,Nd7,Bxe7,Qxe7,Bf3,Nd4,Be2,b5,Qd2,b4,Nd1,Nxe2+,Qxe2,f6,Qh5,fxe5,fxe5,Rxf1+,Nxf1,Rf8,Ng3,Qf7,Qxf7+,Rxf7,Nf2,Nxe5,Re1,Nc6,Rxe6,Nd4,Re8+,Kh7,c3,bxc3,bxc3,Nb5,c4,dxc4,dxc4,Nd4,Nfe4,Ba6,Nxc5,Bxc4,a4,Nf5,Nge4,Ne7', 'Nd6,Rf1+,Kh2,Nf5,Nxc4', 'https://lichess.org/training/PBCYa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pbDiR', 'Blitz', 'Bibhuti', 1632, 'Niconiko', 1704, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c4,Bg4,Be3,e6,Be2,Nf6,Nc3,dxc4,Bxc4,Bb4,O-O,O-O,a3,Bxc3,bxc3,Ne4,Rc1,Rc8,Bd3,Nf6,h3,Bh5,Bg5,h6,Bh4,g5,Bxg5,hxg5,Qd2,Nh7,Bxh7+,Kxh7,Nxg5+,Kg6,Ne4,Qd5,Qf4,Kg7,Qf6+,Kg8,Qf4,Bg6,Nf6+,Kg7,Nxd5,exd5,g4,Rfe8,Rfe1,Na5,Rxe8,Rxe8,Qc7,Nc4,Qd7,Re2,Qxd5,Nd2,Qxb7,Be4,Qc7,Nf3+,Kf1,Bd3,Kg2,Be4,Kf1,Bd3,Kg2,Be4,Kg3,Ng5,Qe5+,f6,Qe7+,Kg6,Qe8+,Kg7,Qe7+,Kg6,Qxa7,Rd2,Qd7,Rd3+,Kh2', 'Rxh3+,Kg1,Rh1#', 'https://lichess.org/training/pbDiR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PbevZ', 'Rapid', 'yuor777', 1661, 'apostrov13', 1687, 'd4,e5,c3,d6,e4,a6,Nf3,h6,dxe5,Bg4,exd6,Bxd6,Be2,Qe7,Nbd2,Nc6,O-O,O-O-O,Qa4,Bd7,Bxa6,bxa6,Qxa6+,Kb8,b4,Na7,Nc4', 'Bb5,Qa5,Bxc4', 'https://lichess.org/training/PbevZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pbfZ5', 'Rapid', 'kondratei', 1624, 'agaymane', 1677, 'e4,c5,d4,cxd4,c3,Nc6,cxd4,e6,Nf3,Bb4+,Nc3,Qa5,Bd2,Bxc3,Bxc3,Qb6,Bc4,Qc7,O-O,b6,d5,Na5,Bxg7,Qxc4,dxe6,fxe6,Bxh8,Bb7,Ng5,Bxe4,Qh5+,Bg6,Qf3,O-O-O,Qa8+,Kc7,Be5+,d6,Rac1', 'Rxa8,Rxc4+,Nxc4', 'https://lichess.org/training/pbfZ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBhaB', 'Rapid', 'adefonus', 2028, 'ELE5EN', 2227, 'Nf3,Nf6,c4,g6,b3,Bg7,Bb2,O-O,e3,d6,d4,Nbd7,Bd3,b6,Qc2,Bb7,Nbd2,Re8,O-O,e5,dxe5,dxe5,Bxe5,Nxe5,Nxe5,Rxe5,Rad1,Rg5,Ne4,Nxe4,Bxe4,Bxe4', 'Rxd8+,Rxd8,Qxe4', 'https://lichess.org/training/pBhaB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBHxg', 'Rapid', 'Timo0984', 1858, 'Agboola', 1856, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bc4,Be6,O-O,Be7,Bxe6,fxe6,e5,dxe5,Qxe5,Qd6,Qb5+,Qc6,Qxc6+,bxc6,Re1,Kf7,Bf4,Bd6,Bg3,Rhe8,Ne2,Ne4,Nd4,Nxg3,hxg3,Bc5,Nxc6,g6,Ne5+,Kg7,Rad1,Bd6,Nc4,Rad8,a4,Kf7,Re4,Kf6,Red4,Ke7,b3,Bc5,R4d3,Rxd3,Rxd3,Rf8,Rf3,Rd8,Rd3,Rf8,Rf3,Rd8,Kf1,Rd1+,Ke2,Rg1,Ne3,Bxe3,Rxe3,Rxg2,Rc3,Kd6,Rf3,Rg1,Rf7,Rh1,Rf8,Rh5,Ra8,Ra5,g4,Ke5,Rh8,Kf4,f3,Re5+,Kf2,h5', 'Rf8+,Kg5,f4+,Kxg4,fxe5', 'https://lichess.org/training/pBHxg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PBjCx', 'Rapid', 'mcmillian', 1783, 'yankar', 1773, 'Nf3,d5,e4,dxe4,Ne5,Nf6,Bc4,e6,d4,c5,c3,cxd4,cxd4,Bb4+,Nc3,O-O,O-O,b6,Bg5,Bb7,a3,Bxc3,bxc3,Bd5,Re1,h6,Bh4,g5,Bg3,Nbd7,Ba2,Rc8,c4,Nxe5,dxe5,Bxc4,exf6,Bxa2,Rxa2,Qxf6,Rxe4,Rfd8,Qe1,Rd5,h4,Rcd8,Ra1,a6,hxg5,hxg5,Bc7,R8d7,Bxb6,Rb7,Be3,a5,Rb1,Rdb5,Rxb5,Rxb5,Bd4,Qf5,Re5', 'Rb1,Qxb1,Qxb1+', 'https://lichess.org/training/PBjCx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBKDs', 'Blitz', 'davidflores', 1616, 'Nigeltamton', 1542, 'b3,e5,Bb2,d6,e3,c5,f4,e4,Be2,d5,d3,exd3,Bxd3,Nf6,Nf3,Nc6,O-O,d4,exd4,cxd4,Nbd2,Bd6,c4,O-O,Nxd4,Nxd4,Bxd4,Bxf4,Rxf4,Nh5,Rf1,Qxd4+,Kh1,Qxd3,Qxh5,Qxd2,Rad1,Qxa2', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/pBKDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pbllb', 'Classical', 'morefire', 1740, 'Winningchances', 1756, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,Bxc3+,bxc3,b6,Ba3,d6,Nf3,Nc6,d5,Na5,Qa4+,Bd7,Qb4,e5,Ng5,O-O,Qb1,g6,h4,Nh5,g4,Bxg4,Bd3,Qf6,f3,Bf5,Ne4,Bxe4,Bxe4,Nxc4,Bc1,Ng3,Rh3,Nxe4,Qxe4,Na5,Rg3,Nb7,Qg4,Nc5,Ke2,Rae8,e4,Qg7,h5,Re7,h6,Qf6', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/Pbllb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pbN5h', 'Rapid', 'sigi1', 1842, 'Onemove7', 1705, 'e4,c5,c4,Nc6,d3,e6,Nf3,d5,cxd5,exd5,exd5,Qd6,Nc3,Nd4,Be2,g6,O-O,Bg7,Be3,Nxe2+,Qxe2,Ne7,Rac1,O-O,Rfd1,b6,Nb5,Qd7,d6,Nd5,a4,a6,Nc3,Nxe3,Qxe3,Re8,Qf4,Bb7,Ne4,Rad8,h4,f5,Neg5,h6,Qc4+,Kh8,Nf7+,Kh7,Nxd8,Rxd8,Re1,Qxd6,Re6,Qc7,Rce1,Bxf3,gxf3,Rd4,Qxa6,Rxh4,Re7,Qh2+,Kf1,Qf4,Rxg7+,Kxg7,Qb7+,Kf6', 'Qe7#', 'https://lichess.org/training/pbN5h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PbNCM', 'Blitz', 'medveckijjvasilijj', 1506, 'koind', 1507, 'd4,e6,g3,d5,Bg2,Nc6,c3,Nf6,f4,Bd6,Nf3,O-O,O-O,Ne7,Be3,Nf5,Bf2,b6,Nbd2,Bb7,Ne5,c5,e3,cxd4,exd4,Ba6,Re1,Qc7,h3,Nd7,g4,Ne7,Bh4,f6,Nxd7,Qxd7,Qf3,Bb7,f5,e5,dxe5,Bxe5,Rxe5,fxe5,Rd1,e4,Qf4,Ng6,Qg5,Nxh4,Qxh4,e3,Nb3,Rae8,c4,e2,Re1,dxc4,Bxb7,cxb3,axb3,Qxb7,Qf2,Qe4,Kh2,Rf7,Kg3,Rd7,Kh4,Rd1,Qg3,Rxe1,Qxe1,Rd8,b4,Rd3,b5,Qf3,Qb4,Qxh3+,Kg5,h6+,Kg6,e1=Q', 'Qc4+,Kh8,Qc8+,Rd8,Qxd8+,Qe8+,Qxe8#', 'https://lichess.org/training/PbNCM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBpaO', 'Rapid', 'arshiyaneshan1', 2097, 'arian13862007', 2346, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,O-O,Bg4,Bg5,f6,Bh4,Nbc6,c3,Qd7,a4,O-O-O,b4,h5,a5,g5,Bg3,Rdg8,b5,Nd8,b6,a6,Qe2,h4,Bxd6,Qxd6,Re1,Nec6,Nbd2,Bd7,Bxa6,g4,Bxb7+,Nxb7,a6,gxf3,axb7+,Kb8', 'Ra8+,Kxb7,Qa6#', 'https://lichess.org/training/pBpaO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PBpfs', 'Blitz', 'lancerisimo', 2287, 'MrChipper', 2367, 'e4,c5,Nc3,d6,Bb5+,Bd7,a4,Nf6,f4,a6,Be2,Nc6,Nf3,Bg4,O-O,e6,d3,Be7,Qd2,O-O,h3,Bxf3,Bxf3,Rb8,Ne2,Nd7,b3,Bf6,Ra2,Nd4,Kh1,b5,Nxd4,cxd4,axb5,axb5,Qa5,Qc8,Bd2,e5,f5,h6,Qb4,Nc5,Rfa1,Qd8,Ra7,Bg5,R1a5,Qf6,Rc7,Rbc8,Raa7,Rxc7,Rxc7,Ra8,Kh2,Ra1,Rc8+,Kh7,Bh5,Na6,Bxg5,Qxg5,Bxf7', 'Qf4+,g3,Qf2#', 'https://lichess.org/training/PBpfs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pbpZc', 'Classical', 'TacafogoBR', 1667, 'juad', 1657, 'd4,Nf6,c4,e6,Bf4,d5,e3,c6,Nf3,Bd6,Bg3,Bxg3,hxg3,a5,a4,Nbd7,Nbd2,b6,Qc2,Ba6,Bd3,g6,e4,dxe4,Nxe4,Nxe4,Bxe4,O-O,Bxc6,Rc8,Bxd7', 'Rxc4,Qd1,Qxd7', 'https://lichess.org/training/pbpZc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBRGf', 'Rapid', 'Salah_hmdan', 1777, 'bobbytassello', 1799, 'e4,c5,Nf3,Nc6,c3,e6,Bc4,d5,exd5,exd5,Bb5,a6,Bxc6+,bxc6,O-O,Be7,Ne5,Nf6,Nxc6,Qc7,Nxe7,Kxe7,Re1+,Kd8,d4,Ng4,g3,h5,Bf4,Qc6,Nd2,h4,Nf3,hxg3,fxg3,Bf5,Ne5,Qb7,Nxg4,Qxb2,dxc5,Bxg4,Qxg4,Qxh2+,Kf1,Qh1+,Kf2', 'Rh2+,Ke3,Qe4#', 'https://lichess.org/training/pBRGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBRj5', 'Blitz', 'IM mancillador', 2548, 'mocaspoke', 2592, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,c5,cxd5,cxd4,Qxd4,exd5,e4,dxe4,Qxd8+,Kxd8,Ng5,Be6,Nxe6+,fxe6,Bc4,Ke7,O-O,Nbd7,Re1,Rc8,Bb3,Nc5,Bg5,Kf7,Bxf6,gxf6,Nxe4,Nxb3,axb3,a6,Rad1,Rc7,Rd8,Bg7,Nd6+,Ke7,Rxh8,Bxh8,Nc4,b5,Ne3,Rc6,g4,Kf7,f4,Bg7,h4,Bf8,Kg2,Bb4,Re2,Ke7', 'Nd5+,Kf7,Nxb4', 'https://lichess.org/training/pBRj5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PbSJe', 'Rapid', 'Stano24', 1737, 'swankytiger', 1750, 'e4,e6,d4,d5,exd5,exd5,g3,Bd6,Bg2,Nf6,Nf3,c6,O-O,O-O,Bg5,Bg4,Nbd2,Nbd7,c3,Qc7,Qc2,h6,Bxf6,Nxf6,Rfe1,Rae8,Nh4,Qd7,Nf1,g5,Nf3,Bf5,Qb3,Ng4,h3,Nf6,g4,Be4,Ne3,b6,Nh2,Qc7,Nf3,h5,Nxg5,Bh2+,Kh1,Bxg2+,Kxg2,Qf4,Nf3,hxg4,Nxh2,gxh3+,Kxh3,Ng4,Nhxg4,Qf3+,Kh2,Kg7,Kg1,Rh8,Nh2,Rxh2,Kxh2,Qxf2+,Kh3,Rh8+,Kg4,Qh4+,Kf3,Qe4+,Ke2', 'Rh2+,Kd1,Qd3+,Kc1,Qd2+,Kb1,Qxe1+', 'https://lichess.org/training/PbSJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PbsnF', 'Rapid', 'KekM8ed', 1776, 'skmeherajali', 1796, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,O-O,Nf6,b4,Bb6,a4,a6,a5,Ba7,d4,Ng4,d5,Ne7,h3,h5,hxg4,hxg4,Nh2,Nxd5,g3,Nf6,Bg5,Rh5,Bxf6,gxf6,Nxg4,Rg5,Nh6', 'Rxg3+,Kh1,Rh3+', 'https://lichess.org/training/PbsnF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBsvW', 'Blitz', 'tin_bishop', 1939, 'thorek', 1985, 'e4,e5,f4,exf4,Nf3,g5,Bc4,Bg7,O-O,h6,c3,Ne7,d4,O-O,b4,d5,exd5,Nxd5,Qb3,c6,Na3,Bg4,Nc2,Na6,Bd2,Nac7,Rae1,Bxf3,Rxf3,Qd7,Ref1,Rae8,g3,Qg4,Kg2,Re7,h3,Qd7,gxf4,g4,Rg3,gxh3+,Kh2,Qf5,Rfg1,f6,Rxh3,Kh7,Ne1,Kh8,Bd3,Qe6,Nf3,Ne3,Qb1,Ng4+,Kg3,Nd5,Rgh1,Nge3,Rxh6+,Kg8,Bh7+,Kh8,Bg6+,Kg8,Rh8+,Bxh8', 'Bh7+,Kf7,Qg6#', 'https://lichess.org/training/pBsvW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PBtw1', 'Rapid', 'walwerde', 1692, 'rod0516', 1708, 'e4,e5,Bc4,Nc6,a3,Nf6,d3,Be7,h3,O-O,g4,d5,exd5,Nxd5,Bd2,Bg5', 'Bxg5,Qxg5,Bxd5', 'https://lichess.org/training/PBtw1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PBuC6', 'Rapid', 'Osso_Duro_DF', 1867, 'Egovv64', 2326, 'e4,c5,Nc3,e6,f4,a6,Nf3,Qc7,d3,d6,Be2,Nc6,O-O,Nge7,Be3,g6,g4,Bg7,f5,gxf5,gxf5,exf5,Nh4,fxe4,Nxe4,Rg8,Kh1,Ng6,Nf5,Bxf5,Rxf5,O-O-O,Ng5,Nce5,c3,h6,Ne4,Qd7,Qf1,Rdf8,Nf6,Bxf6,Rxf6,Kb8,Bd2,Ng4,Rf5,N6e5,d4,Nc6,Bf4,cxd4,Rd5,Ka8,Rxd6,Qf5,cxd4', 'Qe4+,Bf3,Qxf4', 'https://lichess.org/training/PBuC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBUdT', 'Blitz', 'Harunhan88', 1558, 'Morra123', 1544, 'd4,d5,c4,c6,e3,Nf6,Nc3,e6,a3,Be7,Bd3,O-O,Nge2,Nbd7,c5,b6,b4,a5,Qa4,Bb7,b5,cxb5,Qxb5,Ba6,Qb1,bxc5,O-O,cxd4,Nxd4,Bxd3,Qxd3,Nc5,Qd1,Nfe4,Nxe4,Nxe4,f3,Nd6,a4,Nc4,Qe1,Bb4,Qe2,Qb6,Rb1,Qc7,Nb5,Qd7,Rd1,Rfb8,e4,Qd8,exd5,exd5,Bf4,Rb6,Nc7,Rc8,Nxd5', 'Bc5+,Kf1,Rxb1,Rxb1,Qxd5', 'https://lichess.org/training/pBUdT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PBvJq', 'Rapid', 'Guesty', 1626, 'ioanselagea', 1626, 'd4,d5,c4,dxc4,e3,b5,Nc3,c6,Nf3,e6,Be2,Bb4,O-O,Nf6,a3,Bd6,e4,Be7,Bf4,Nh5,Be3,O-O,Ne5,Nf6,Qc2,Bb7,f4,c5,Rad1,Qc7,d5,exd5,exd5,b4,Nb5,Qb6,Bxc4,a6,d6,Bd8,Nc7,Bxc7,dxc7,Qxc7,Bxc5,Qxc5+,Kh1,Nc6', 'Bxf7+,Rxf7,Qxc5', 'https://lichess.org/training/PBvJq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PBwmF', 'Classical', 'Yana_Soldatova', 1880, 'Maxim_Korolev', 1875, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,h3,Nf6,Nf3,O-O,O-O,Re8,c3,c6,Bg5,h6,Bh4,Be6,Re1,Nbd7,Nbd2,Qc7,Nf1,b6,Bg3,Nh5,Bxd6,Qxd6,Ne3,Nf4,Bc2,Nf6,Nf5,Qd7,Ne5,Qc8,Nd6,Qc7,Nxe8,Rxe8,Qf3,g5,h4,N4h5,hxg5,hxg5,Bf5,Nf4,Bxe6,Rxe6,Qg3,Ne4,Qg4,f6,Ng6,Re8,Nxf4,Qxf4,Qxf4,gxf4,f3,Nd6,Rxe8+,Nxe8,Re1,Kf7,Kf2,Ng7,g3,fxg3+,Kxg3,Ne6,Kg4,Ng5,f4,Ne4,Kf3,Nd2+,Ke2,Nc4,b3,Nd6,Rh1,Kg8,Rh6,Kg7,Rh4,Ne4,Kd3,Nf2+,Kc2,Ne4,Rh1,Nd6,Ra1,Kg6,a4,a5,Rb1,Kf5,b4,Nc4,b5', 'Na3+,Kd3,Nxb1,bxc6,Ke6', 'https://lichess.org/training/PBwmF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PBx2O', 'Bullet', 'Drole2Type', 1946, 'AllanFM', 1933, 'e4,c5,Nf3,Nc6,Bb5,e5,Bxc6,bxc6,Nxe5,Bb7,d3,Bd6,Nf3,Bc7,Be3,Bb6,Nc3,Ne7,Na4,O-O,Bxc5', 'Bxc5,Nxc5,Qa5+,Qd2,Qxc5', 'https://lichess.org/training/PBx2O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PBXF1', 'Blitz', 'Whobyfire', 2150, 'Zeitnotcafe', 1896, 'd4,Nf6,c4,g6,Nf3,d5,cxd5,Nxd5,e4,Nb6,a4,a5,Bb5+,c6,Be2,Bg7,O-O,O-O,Nc3,Bg4,Be3,Bxf3,Bxf3,Nc4,Qe2,Nxe3,fxe3,Nd7,e5,e6,Ne4,c5,Nd6,cxd4,exd4,Qb6,Qb5,Qxd4+,Kh1,Nxe5,Rad1,Qb4,Bxb7,Rab8,b3,Qh4,Qe2,h5,h3,Ng4,Bf3,Nh6,Nb5,Nf5,Qf2,Ng3+,Kg1,Rbd8,Rxd8,Rxd8,Rc1,Rb8,Rc7,Rxb5,Bg4,Rxb3', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/PBXF1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PbXKl', 'Blitz', 'jliboon01', 1902, 'per5i', 1855, 'e4,e5,Bc4,Nf6,d3,Bc5,Nc3,h6,Nf3,d6,Na4,Bb6,Nxb6,axb6,a3,Nc6,c3,Bg4,h3,Bh5,O-O,O-O,b4,d5,exd5,Nxd5,g4,Nxc3,Qc2,Qf6,Kg2,Nd4,Nxd4,exd4,gxh5,b5,Bb3,Rfe8,Bd2,Re2,Rfe1,Rae8,Rxe2,Rxe2,Re1,Qc6+,Kg1,Qf3,Rxe2', 'Nxe2+,Kf1,Ng3+,Ke1,Qe2#', 'https://lichess.org/training/PbXKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PBYgP', 'Rapid', 'eelo', 1789, 'gborgr', 1784, 'a3,Nf6,d4,d5,Nf3,Nc6,h3,e6,Bf4,a6,e3,Bd6,Bg5,Bd7,c4,Be7,c5,Ne4,Bf4,O-O,Be2,f6,Nbd2,e5,Bh2,Nxd2,Qxd2,e4,Ng1,b5,Bg4,Qc8,Bxd7,Qxd7,Ne2,f5,Bf4,Bf6,O-O,Ne7,b4,c6,Ng3,Ng6,Bd6,Be7,Qe2,Bxd6,cxd6,Qxd6,Qh5,Qe6,Rac1,Rac8,Rc3,Ne7,f4,Rf6,Qe2,Rh6,Rf2,Qg6,Nh1,Rxh3,g3,Rh6,Rh2,Rxh2,Qxh2,Qg4,Kf2,Qf3+,Ke1,Qg4,Nf2,Qg6,Kd2,Qf7,Qh4,Ng6,Qh3,Qe6,g4,fxg4,Nxg4,Nh8', 'Nh6+,Qxh6,Qxc8+', 'https://lichess.org/training/PBYgP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBz76', 'Rapid', 'leomota1212', 1733, 'quangtit01', 1600, 'f4,c5,Nf3,Nc6,e3,Nf6,Bb5,g6,Bxc6,bxc6,O-O,Bg7,d3,O-O,Nbd2,d6,Rb1,Be6,a3,Rb8,Qe1,Rb7,b3,Qa5,a4,Rfb8,e4,Bd7,e5,dxe5,Nxe5,Nd5,Rf3,f6,Nxd7,Rxd7,Rh3,Nxf4,Rf3,Nd5', 'Qe6+,Kh8,Qxd7', 'https://lichess.org/training/pBz76');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PbZlC', 'Rapid', 'saadhajkhaleel', 1868, 'mike_al', 1860, 'd4,g6,Bf4,d5,e3,Bg7,Nf3,Bg4,Be2,Nf6,Nbd2,O-O,c4,c6,Rc1,Nbd7,cxd5,Nxd5,Bg3,N7f6,h3,Bh5,Be5,Rc8,g4,Bxg4,hxg4,Nxg4,Bxg7,Kxg7,Ne5,Nxe5,dxe5,f5,exf6+,exf6,Bh5,f5,Bxg6,hxg6,Rh2,Qe7,Ke2,Nf4+,Kf3,Qg5,exf4,Qg4+,Ke3,Rfe8+,Kd3,Rcd8+,Kc2,Qxf4,Rg2,Re4,b3,Red4,f3,c5,Qe2', 'Rxd2+,Qxd2,Rxd2+', 'https://lichess.org/training/PbZlC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pbZPO', 'Rapid', 'Peter-Bon22', 1731, 'checkmate3141', 1872, 'c3,Nf6,d3,d5,Qc2,Bf5,h3,h5,Be3,e6,g3,c5,Bf4,Nc6,a3,e5,Be3,e4,d4,Qb6,Nd2,cxd4,cxd4,Nxd4', 'Qa4+,Qb5,Qxd4', 'https://lichess.org/training/pbZPO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pBZWv', 'Rapid', 'Karkamik', 2077, 'Player8091', 2169, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,Bd7,O-O,cxd4,cxd4,Nxd4,Nbd2,Nc6,Ng5,h6,Qh5,g6', 'Bxg6,fxg6,Qxg6+,Kd8,Nf7+,Kc7,Nxh8', 'https://lichess.org/training/pBZWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pbzX1', 'Classical', 'joseaguila', 2322, 'GutiRaf', 2143, 'e4,c5,d4,cxd4,Nf3,e6,c3,d3,c4,Nc6,Nc3,a6,Bxd3,Qc7,O-O,Nf6,h3,d6,Qe2,Be7,Be3,Bd7,Rac1,Ne5,Nxe5,dxe5,f4,exf4,Bxf4,e5,Bg3,O-O,Rf3,b5,cxb5,axb5,Rcf1,b4,Nd5,Nxd5,exd5,f6,Qe4,g6,Bc4,Kg7,Rd1,Bd6,Qe2,e4,Bxd6,exf3', 'Qe7+,Rf7,Qxf7+,Kxf7,Bxc7', 'https://lichess.org/training/pbzX1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pc2NI', 'Rapid', 'HenriqueLimaa1002', 1726, 'DerekSmalls', 1641, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,Be2,Bxf3,Bxf3,Ne7,O-O,Nf5,c3,Be7,Bf4,O-O,Nd2,c5,Bg4,Nh4,g3,Ng6,Be3,cxd4,cxd4,Nc6,f4,Qb6,h4,Bb4,Nf3,Nge7,Qd3,Ba5,Ng5,g6,b3,Nb4,Qe2,Rac8,a3,Nc2,b4,Nxa1,bxa5,Qb3,Rxa1,Rc2,Qe1,Rfc8,Nxe6,Nf5,Nc5,Qb2,Bxf5,Rg2+,Kf1,gxf5,Bf2', 'Rxf2+,Qxf2,Qxa1+', 'https://lichess.org/training/Pc2NI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pc3zd', 'Blitz', 'hashash', 2109, 'Dudeman1', 2047, 'd4,f5,Nf3,Nf6,e3,e6,Bd3,d5,Qe2,c6,O-O,Bd6,Ne5,O-O,c4,Nbd7,Nxd7,Bxd7,Nc3,Ng4,h3,Qh4,f4,Nf6,Bd2,Rae8,Be1,Qh6,a3,Kh8,b4,g5,Bg3,Nh5,Bh2,Rg8,Qf2,g4,hxg4,Rxg4,Qf3,Reg8,Ra2,Ng3,Raf2,Qxh2+,Kxh2', 'Rh4+,Kg1,Rh1#', 'https://lichess.org/training/Pc3zd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PC5Rh', 'Blitz', 'CM realPioneer', 2363, 'kanliieren', 2322, 'd4,d5,Bg5,c5,dxc5,Nf6,Bxf6,exf6,Nf3,Bxc5,e3,Nc6,Bb5,Bg4,Bxc6+,bxc6,O-O,O-O,Nbd2,Rb8,b3,Bd6,c3,Qc7,h3,Bh5,Qe2,Bh2+,Kh1,Be5,Rac1,a5,Qd3,Bg6,Qe2,a4,Nxe5,fxe5,c4,Qa5,cxd5,cxd5,f4,exf4,Rxf4,axb3,axb3,Rfe8,b4,Qb6,Nf1,d4,Rxd4', 'Qxd4,exd4,Rxe2', 'https://lichess.org/training/PC5Rh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pC72s', 'Rapid', 'skythos', 1907, 'Niceguy_in', 1859, 'e4,c5,c3,e6,d4,cxd4,cxd4,d6,Nf3,Nc6,Bb5,Nf6,d5,exd5,exd5,Qa5+,Nc3,a6,dxc6,axb5,cxb7,Bxb7,O-O,Be7,Bf4,O-O,Qb3,b4,Rfe1,Rfe8,Ne2,h6,Ned4,Bd5,Qc2,Qb6,b3,Nd7,Nf5,Bf6,Rxe8+,Rxe8,Rd1,Bxf3,gxf3,Ne5,Rxd6,Qb7,Nxh6+,Kh8,Ng4,Nxf3+,Kf1,Nxh2+,Bxh2', 'Qh1+,Bg1,Qh3#', 'https://lichess.org/training/pC72s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pc7KZ', 'Blitz', 'Cambito', 1772, 'Nafiz13', 1840, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,Bd3,g6,O-O,Bg7,Bg5,O-O,h3,b5,Qd2,Bb7,Bh6,Nbd7,Bxg7,Kxg7,Rfe1,e6,Ne2,Qc7,Ng3,a6,c3,c5,Ne4,cxd4,Nxd4,Nxe4,Bxe4,Bxe4,Rxe4,Nf6,Re3,Rad8,Rd3,Rd7,Rd1,Rfd8,f4,Kg8,Qe3,Nd5,Qe1,Nxf4,R3d2,Qc5,Kh2,Qc7,g3,Nh5,Nxe6,fxe6,Qxe6+,Kh8', 'Rxd7,Qxg3+,Kh1,Qf3+,Kg1', 'https://lichess.org/training/pc7KZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pc7m8', 'Classical', 'mjkiller12', 1746, 'MBSCo', 1696, 'e4,e6,c4,c5,Nc3,Nc6,a3,Nf6,Nf3,b6,Qc2,d6,g3,Bb7,Bg2,h6,b4,a6,bxc5,bxc5,Qd1,Na5,d4,Nxc4,dxc5,d5,exd5,Nxd5', 'Qa4+,Qd7,Qxc4', 'https://lichess.org/training/Pc7m8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pc8C3', 'Rapid', 'AllanAA', 1820, 'vicky_krish', 1806, 'e4,e5,Nf3,Nc6,a3,Bc5,Bc4,d6,Nc3,Nf6,d3,O-O,Be3,Bb6,h3,h6,O-O,Be6,Nd5,Nxd5', 'exd5', 'https://lichess.org/training/pc8C3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pc9Md', 'Rapid', 'Wu-Tang-Clan', 1815, 'adis1990', 1907, 'e4,e6,Nf3,Nc6,d4,d5,exd5,exd5,Nc3,Bb4,Bd2,Nf6,a3,Bxc3,Bxc3,Qe7+,Be2,Bg4,O-O,Ne4,h3,Bh5,Re1,O-O,Nd2,Nxc3,bxc3,Bxe2,Rxe2,Qd7,Nf3,Rfe8,Rxe8+,Rxe8,Qd3,h6,Re1,Rxe1+,Nxe1,Qe7,Nf3,Qxa3,Qb5,Qa1+,Kh2,Qxc3,Qxb7,Nxd4,Qc8+,Kh7,Nxd4,Qxd4,Qf5+,g6,Qxf7+,Qg7,Qxd5,Qe7,c4', 'Qd6+,Qxd6,cxd6', 'https://lichess.org/training/pc9Md');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PCAaC', 'Rapid', 'KibarAydin', 1802, 'alexhanzal', 1795, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,a6,Bxc4,b5,Bb3,e6,d5,exd5,exd5,Bb7,Bg5,Be7,Nge2,O-O,O-O,Nbd7,Re1,Nb6,Rc1,Re8,Ng3,Rc8,Nf5,Nfxd5,Nxd5,Bxg5,Rxe8+,Qxe8,f4,Bxd5,fxg5,Bxb3,Qxb3,Nc4,Qc3,Qe5', 'Qxe5,Nxe5,Ne7+,Kf8,Nxc8', 'https://lichess.org/training/PCAaC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PcaxK', 'Blitz', 'bigsylvester', 1544, 'FaizHashim', 1530, 'd4,d5,g3,c5,Bg2,cxd4,Qxd4,e6,Nf3,Nc6,Qd1,Nf6,O-O,Bc5,Bg5,h6,Bxf6,Qxf6,Nc3,Bd7,e3,g5,Na4,Bd6,Nc3,g4,Nd4,Nxd4,exd4,h5,Re1,O-O-O,a4,h4,Nb5,Bxb5,axb5,hxg3,fxg3,Qh6,Qxg4,Qxh2+,Kf2,Bxg3+', 'Qxg3,Rdg8,Qxh2,Rxh2,Rg1', 'https://lichess.org/training/PcaxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PCbTK', 'Blitz', 'THE_KILLER7', 1735, 'testin123', 1722, 'd4,Nf6,Nf3,d5,e3,c5,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,cxd4,Nxd4,e6,Nc3,Bd6,Re1,O-O,g3,h5,e4,h4,Bg5,hxg3,fxg3,Ne5,exd5,g6,dxe6,fxe6,Nxe6,Qb6+,Kg2,Nfg4,Nxf8', 'Qf2+,Kh3,Qxh2#', 'https://lichess.org/training/PCbTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pCbxc', 'Classical', 'robertkarl', 1670, 'dukeblanc', 1862, 'e4,c5,Bc4,a6,a3,b5,Be2,Bb7,Bf3,e5,d3,Nf6,Bd2,d5,Ne2,dxe4,dxe4,Bxe4,Bxe4,Nxe4,f3,Nf6,O-O,c4,Nec3,Bc5+,Kh1,O-O,Ne4,Nxe4,fxe4,Nc6,Bc3,Qh4,Qf3,Rad8,Nd2,Bd4,Rad1,Rd6,Nb1,Rf6,Qe2,Rh6,h3,Bxc3,bxc3,a5,Rf3,Rf6,Rdf1,Rxf3,Qxf3,b4,Qe2,bxc3,Qxc4,Nd4,Qxc3,Ne2,Qxe5,Ng3+,Kg1,Nxf1,Kxf1,Rd8,Ke2,Kf8,c4,Re8,Qd6+,Qe7,Qxe7+,Kxe7,Nc3,Kd6,Kd3,Ke5,g3,Re6,Ne2,Rb6,c5,Rc6,Kc4,Kxe4,Kb5,Rc8,Nc3+,Kd4,Na4,g5,Kb6,Kd5,Kxa5,f5', 'Nb6+,Kxc5,Nxc8,f4,gxf4,gxf4,Ne7,f3,Nf5', 'https://lichess.org/training/pCbxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pCCEi', 'Rapid', 'takverely', 1787, 'CarTap', 1743, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,h6,Kh1,d6,c3,Bg4,h3,Bh5,a4,a5,Bd2,g5,Qb3,Rb8,Bxg5,hxg5,Nxg5,O-O,Nd2,Nh7,Nxh7,Kxh7,f4,f6,f5,Qe7,g4,Bf7,Kg2,Be3,Nf3,Bxc4,Qxc4,Qf7,Qb5,Rg8,Rae1,Bf4,Nh4,Bg5,Ng6,Ne7,Qd7,Rg7,Qxc7,Nxg6', 'fxg6+,Kxg6,Qxb8', 'https://lichess.org/training/pCCEi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PCD0R', 'Blitz', 'IM stvngrnrt', 2486, 'ZeruHmyz', 2493, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Be7,Nf3,O-O,c4,c5,d5,exd5,exd5,Bf6,Rb1,Qa5+,Bd2,Qxa2,Be2,b6,O-O,Nd7,Re1,Ne5,Nxe5,Bxe5,Bd3,Bd4,Re2,Qa6,Re7,Bf6,d6,Be6,Qh5,g6,Qf3,Bg7,d7,Rad8,Qc6,Bf6,Rxe6,fxe6,Qxe6+,Kg7,Be4,Rf7,Bc6,Re7', 'Bh6+,Kxh6,Qxf6', 'https://lichess.org/training/PCD0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pcdDl', 'Rapid', 'TchablobsCRUSHER', 1625, 'branbor', 1911, 'd4,d5,c4,dxc4,e4,e6,Bxc4,a6,Nf3,b5,Bd3,Nc6,Qc2,Bb7,Be3,Nb4,Qd1,Nxd3+,Qxd3,Nf6,e5,Ne4,O-O,Be7,Na3,O-O,h3,h6,Nh2,Ng5,f4,Be4,Qc3,Nh7,Nb1,c6,Nd2,Bd5,Qc1,Bh4,Qc2,Bg3,Nhf3,Qc7,Ne4,Bxe4,Qxe4,Rac8,f5,exf5,Qxf5,Qe7,Bxh6,gxh6,Qg4+,Ng5,Nxg5', 'Qxg5,Qxg5+,hxg5', 'https://lichess.org/training/pcdDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PcEtj', 'Rapid', 'mihalych333', 1856, 'Sergei_Vladimirovich', 1820, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nc3,h6,b3,Nf6,Bxc6,Bxc6,Nxc6,bxc6,Bb2,Be7,O-O,O-O,Re1,d5,e5,Nh7,Qg4,Bc5,Na4,Bb6,h4,g5,Qh5,gxh4,Nxb6,cxb6,f4,Qe7,Kh2,Qc5,Re2,Rae8,Qxh6,Re6,Qxh4,Qe7,Qxe7,Rxe7,Ba3,c5,Rd1,Rd7,Re3,Re8,Rh3,f6,Re1,fxe5,fxe5,Rde7,Bb2,Nf8,Ree3,Ng6,Rhg3,Kh7,Rh3+,Kg8,Rhg3,Re6,Rg5,Kf7,Rf3+,Ke7,Rh3,Rh8,Rxg6', 'Rxh3+,gxh3,Rxg6', 'https://lichess.org/training/PcEtj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pcF9C', 'Rapid', 'Anand7Narahari', 1782, 'hamid77777', 1799, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,Bb5,Bd7,O-O,Nf6,f4,Nxd4,Bxd7+,Qxd7,Bxd4,O-O,e5,dxe5,Bxe5,Qxd1,Raxd1,Ng4,Bxg7,Kxg7,Rd7,e6,Rxb7,Rfb8,Rxb8,Rxb8,b3,Ne3,Rf2,Rc8,Nb5,a6,Nd4,Rd8,Re2,Nd5,c4,Nxf4,Rd2,e5', 'Nf5+,Kf6,Rxd8', 'https://lichess.org/training/pcF9C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PcFmA', 'Rapid', 'ValeraBabarykin', 1651, 'jayy23', 1651, 'e4,e6,d4,d5,Nd2,c5,Ngf3,Nc6,c3,Nf6,e5,Nd7,Bd3,Qb6,O-O,cxd4,cxd4,Nxd4,Ng5,h6,Nxf7,Kxf7,Qh5+,Ke7,Bg6,Qa6,Nf3,Ne2+,Kh1,Nxc1,Raxc1,Qxa2,Be8,Qxb2,Qf7+,Kd8', 'Rxc8+,Kxc8,Qxd7+,Kb8,Qd8#', 'https://lichess.org/training/PcFmA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PCgbk', 'Classical', 'deendyalsingh', 1813, 'FaRuKyOrUlMaZ', 1706, 'e4,c5,Nf3,Nc6,Nc3,d6,a3,Nf6,Bc4,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,a6,d3,b5,Bd5,Nxd5,Nxd5,e6,c3,Nc6,Nf4,Be7,O-O,O-O,Kh1,Rb8,Ne2,Bf6,f4,b4,Bd2,a5,Ng3,bxc3,Bxc3,Bxc3,bxc3,Qf6,f5,Qxc3,f6,Rfd8,fxg7,Qxg7,Nh5,Qd4,Qg4+,Kf8,Nf6,Ne5,Nxh7+,Ke7,Qg5+,Kd7,Qg7,Rg8', 'Nf6+,Kc7,Nxg8', 'https://lichess.org/training/PCgbk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PCGLU', 'Classical', 'Anasmarwah', 1729, 'SanityKeep', 1645, 'c4,e5,Nc3,Nf6,g3,c6,Bg2,d5,cxd5,Nxd5,e3,Be6,Nge2,Bd6,O-O,O-O,f4,exf4,Nxd5,Bxd5,e4,fxg3,exd5,gxh2+,Kh1,cxd5,Bxd5,Qg5,Bxb7,f5,Bxa8,f4,b3,Nd7,Bb2,Rxa8,Rf3,Rf8,Qc2,Ne5,Bxe5,Bxe5,Raf1,Rf6,Qc8+,Kf7,Qd7+,Kg8,Qe8+,Rf8,Qe6+,Rf7,Rc1,g6,Rc8+,Kg7,d4,Bxd4,Qe8', 'Qg1+,Nxg1,hxg1=Q#', 'https://lichess.org/training/PCGLU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pcHQd', 'Rapid', 'kangkilido', 1900, 'Chessbootje', 1758, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,c6,h3,Nf6,d3,Bf5,Bd2,Qc7,Be2,e6,Nh4,Bg6,Nxg6,hxg6,a3,Nbd7,Bg5,O-O-O,Be3,a6,Na4,Be7,Bf3,Nd5,Bd4,Qa5+,Nc3,Nxc3,Bxc3,Qb6,d4,Bf6,O-O,e5,dxe5,Nxe5,Qe2,Nxf3+,Qxf3,Bxc3,Qxc3,f6,Rad1,g5,b4,Qc7,Qc5,g4,Qf5+,Kb8,Qxg4,g5,c4,Rh4,Qf5,g4,Rxd8+,Qxd8,hxg4,Qh8,Qf4+,Ka8,f3,Rh1+,Kf2,Qh4+,Ke2,Rxf1,Kxf1,Qh1+,Kf2,Qh4+,Ke2,Qh1,Qxf6,Qxg2+,Kd3,Qf1+,Kc3', 'Qa1+,Kd3,Qxf6', 'https://lichess.org/training/pcHQd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PCHVv', 'Rapid', 'TheSaladDestroyer', 1813, 'aramirezharo', 1644, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,h4,Bg7,Be3,a6,h5,e5,Nb3,Ne7,hxg6,Nxg6,Nc3,b5,Qd2,Bb7,Be2,Nc6,O-O-O,Bf8,Bh6,Bxh6,Qxh6,Kd7,Nc5+,Kc7,Nxb7,Kxb7,Qd2,Nd4,g3,Qc7,f4,Rad8,fxe5,dxe5,Nd5,Qc5,Bd3,Ne7,Ne3,Rd7,Qf2,Ng6,Nf5', 'Nb3+,axb3,Qxf2', 'https://lichess.org/training/PCHVv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PCiFn', 'Rapid', 'SMJT', 2149, 'mgy2', 2128, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Nf6,Re1,O-O,h3,Be6,Bb3,Re8,d4,exd4,cxd4,Bb4,Nc3,Bxb3,axb3,Nxe4', 'Rxe4,Rxe4,Nxe4', 'https://lichess.org/training/PCiFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pCIfq', 'Rapid', 'sl11235', 2004, 'Nagyc42', 2057, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Bb5+,c6,Bd3,Be6,Nge2,Bc5,O-O,O-O,Kh1,b5,a3,a5,f4,exf4,Nxf4,Bg4,Qe1,Nh5,Be3,Nd7,h3,Nxf4,Bxf4,Bh5,Qg3,Qe7,Rae1,Bg6,h4,f6,h5,Bxh5,Bh6,Bg6,e5,Bxd3,cxd3,fxe5,Rxf8+,Rxf8,Ne4,Kh8,Bg5,Qe6', 'Nxc5,Nxc5,Rxe5,Qf7,Rxc5', 'https://lichess.org/training/pCIfq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PCIga', 'Rapid', 'NG9201', 2175, 'Maxi2000', 1980, 'e4,c6,d4,d5,Nd2,e6,Ngf3,Nd7,c3,Bd6,Bd3,Ne7,Qc2,h6,O-O,b6,Re1,Bb7,Nf1,Qb8,b4,a5,e5,Bc7,Ng3,g6,Bd2,Nf5,Bxf5,gxf5,Nh5,Kf8,Qc1,axb4,cxb4,c5,bxc5,bxc5,Bxh6+,Ke8,Ng7+,Kd8,Bg5+,Kc8,dxc5,Nxe5,Nxe5,Bxe5,c6', 'Bxh2+,Kf1,Ba6+', 'https://lichess.org/training/PCIga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pCLbr', 'Rapid', 'Rustea', 1854, 'Michajow', 1838, 'e4,c5,c3,Nf6,Bd3,Nc6,Nf3,d6,h3,e6,O-O,Be7,Bc2,e5,d4,cxd4,cxd4,exd4,Nxd4,Nxd4,Qxd4,O-O,Nc3,b6,Bf4,Bb7,Rad1,Nh5,Bh2,Bf6,Qxd6,Qxd6,Rxd6,Bxc3,bxc3,Rac8,Be5,Nf6,f3,Rfe8,Bd4,Ba6,Rd1,Nd7,Bxg7,Kxg7,Rxd7,Rxc3,Bb3,Bc4,Bxc4,Rxc4,Rxa7,b5,Rdd7,Rf8,Rdb7,Rb4,Kf2,Kg6,Kg3,h5,h4,f5,exf5+,Kxf5,Rf7+,Rxf7,Rxf7+,Kg6,Ra7,Kf5,Rh7,Kg6,Rh8,Ra4,Rb8,b4,Rb5,Kh6,Kf4', 'b3+,Kf5,bxa2', 'https://lichess.org/training/pCLbr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pCMjY', 'Rapid', 'edgar12cornejo', 1647, 'turbojerboa', 1698, 'd4,Nf6,Nf3,c5,d5,e6,d6,Ne4,Bf4,Qb6,Nc3,Nxd6,Bxd6,Qxd6,Qxd6,Bxd6,O-O-O,Be7,Nb5,Kd8,Ne5,Rf8,e3,a6,Nd6,Bxd6,Rxd6,Ke7,Rd3,d6,Nc4,d5,Nb6,Ra7,Be2,c4,Rd4,Nd7,Nxc8+,Rxc8,Rh4,h6,g4,Nf6,Rg1,Rg8,g5,hxg5,Rxg5,b5,Bf3,Raa8,e4,g6,e5,Nd7,Kd2,Rh8,Rxh8,Rxh8,Rg2,Nxe5,Be2,Nc6,Kc3,d4+,Kd2,e5,a4,Ke6,axb5,axb5,b3,c3+,Kc1,b4,Bc4+,Ke7,Kd1,Nd8,Ke2,Ne6,Bxe6,Kxe6,Kd3,Rc8,h3,Kf6,h4,Kf5,Rg5+,Kf6,Ke4,Re8,Kd5,e4,Kxd4,Re6,Kc4,Re5,Rxe5,Kxe5,Kxb4,Kf4,Kxc3', 'Kf3,Kd4,f5', 'https://lichess.org/training/pCMjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pCnyr', 'Blitz', 'aysberg21', 1563, 'blarptorp', 1542, 'e4,e5,Nf3,Nc6,Bc4,Bc5,a3,d6,Nc3,Be6,d3,Bxc4,dxc4,Nf6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Rg8,h4,Nd4,Nd5,Rg6,Nxf6+,Rxf6,Bxf6,Qxf6,h5,Nb3,Qe2,Nxa1,h6,O-O-O,h7,a5,Kd2,Nxc2,Kxc2,c6,Qg4+,Kb8,Qg8,Qxf2+,Kb3,a4+,Ka2,Kc7,h8=Q,Rxg8,Qxg8,Bd4,Rb1,Qc2,Qxf7+,Kb6,Qf1', 'Qb3+,Ka1,Qxa3#', 'https://lichess.org/training/pCnyr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PcqIb', 'Rapid', 'sanjoyku17', 2045, 'mandragOran-bg', 2040, 'd4,d5,Nf3,Nd7,c4,c6,cxd5,cxd5,Nc3,Ngf6,Bf4,e6,e3,a6,Bd3,Bb4,O-O,O-O,Rc1,Be7,Qc2,h6,Ne5,Nh5,Bh7+,Kh8,Nxf7+,Rxf7,Bg6,Rxf4,exf4,Nxf4,Bf7,Qf8,Bg6,Bg5,h4,Bxh4,g3,Nxg6,Qxg6,Bg5,Rce1,Nf6,Kg2,Bd2,Re5,Bxc3,bxc3,b5,Rh1,Bd7,g4,Nh7,g5,Qf4,gxh6,gxh6', 'Rxh6,Qxh6,Qxh6', 'https://lichess.org/training/PcqIb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pCSHS', 'Rapid', 'ArGen1963', 1789, 'DailyChess00', 1795, 'e4,d6,d4,e6,Nf3,g6,Bc4,Bg7,O-O,a6,a4,b6,Be3,Nf6,Nbd2,Bb7,e5,dxe5,dxe5,Ng4,Re1,Bxf3,Nxf3,Qxd1,Raxd1,Nxe5,Nxe5,Bxe5,Bh6,Bxb2,Bd5,Ra7,Bf3,Rg8,c4,g5,Bh5,Nd7,f4,Nf6', 'Rxe6#', 'https://lichess.org/training/pCSHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pcsOD', 'Rapid', 'chifou', 1742, 'Farhid123', 1877, 'e4,e5,d4,exd4,c4,c5,Nf3,Nc6,Be2,Nf6,Nbd2,Bd6,a3,O-O,O-O,Re8,Bd3,Ne5,Nb3,b6,Bg5,h6,Bxf6,Qxf6,Re1,Bb7,Nxe5,Bxe5,f3,Re6,Nd2,Qg5,Nf1,Rg6,Qd2,Bf4,Qe2,Rf8,e5,f5,exf6,Rgxf6,Kh1,Re6,Qf2,Rfe8,Rxe6,Rxe6,Re1,Be3,Qg3,Qe7', 'Qb8+,Kf7,Qxb7', 'https://lichess.org/training/pcsOD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PCTvr', 'Blitz', 'FM guilty93', 2434, 'amigodemario', 2210, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,g6,Bf4,Bg7,e3,Bg4,h3,Bxf3,Qxf3,e6,Bd3,Nbd7,O-O,O-O,Rfd1,Qe7,Rac1,Rad8,Qe2,dxc4,Bxc4,e5,Bg3,exd4,Rxd4,Nb6,Rcd1,Rxd4,Rxd4,Rd8,Rxd8+,Qxd8,Bb3,Qd7,Bb8,a6,g4,h5,f3,hxg4,hxg4,Bh6,Ba7,Nbd5,Nxd5,Nxd5,Qd3,Qd6,f4,Bf8,Kf2,Qf6,Kf3,Qh4,Bxd5,cxd5,Qxd5', 'Qh1+,Kg3,Qxd5', 'https://lichess.org/training/PCTvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pcU05', 'Rapid', 'garryhoke', 1865, 'Aleksander123', 1614, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,h3,Bf5,g4,Be4,Bg2,Bxf3,Bxf3,Nxe5,Bxb7,Rb8,Bg2,Bb4+,Bd2,Bxd2+,Qxd2,d3,Qe3,f6,f4,Rxb2,Nd2,dxe2,Qxe2,Rxd2,Qxd2,Qxd2+,Kxd2,Nxc4+,Kc3,Nd6,Rhe1+,Kd7,Re2,Ne7,Rae1,Re8,Bc6+', 'Nxc6,Rxe8,Nxe8', 'https://lichess.org/training/pcU05');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pCuf0', 'Rapid', 'mayor1980', 1777, 'Jomax100', 1826, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,Re1,Be7,Nxe5,O-O,Bf4,Bg5,Qd2,Bxf4,Qxf4,Nb5,c3,f6,Nf3,Qd6,Qh4,Bf5,Nbd2,Qd7,a4,Nd6,b4,Rae8,a5,b5,axb6,cxb6,c4,Bd3,c5,Nc4,Nxc4,Bxc4,Red1,Be2,Rd2,Bxf3,gxf3,Re7,Rda2,Rfe8,Kg2,bxc5,dxc5,Rd8,Rxa7,Qxa7,Rxa7,Rxa7,Qe4,Rc7,h4,Rcc8,Kg3,Re8,Qc4+,Kf8,f4,Rcd8,Qa6,Rc8,f3,Kf7,f5,Rc7,Qc4+,Kf8,h5,Re5,Kg4,Re1,Qf4,Ree7,h6,Kg8,Kh5,Rc8,Qd6,Rcc7,Qd8+,Kf7,Qd5+,Kf8,Qd8+,Kf7,Qd4,Rcd7,Qg4,Kf8,Qc4,Rd5,Kg4,gxh6,Qf4,Kg7,Kh5,Rde5', 'Qxh6+,Kg8,Qxf6', 'https://lichess.org/training/pCuf0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PcwrG', 'Rapid', 'Mikel-David', 1940, 'girica', 1978, 'd4,d5,c4,dxc4,e3,e6,Nf3,Ne7,Nc3,Ng6,Bxc4,Be7,Bd2,c6,Qc2,O-O,h4,f5,Ng5,Bxg5,hxg5,Qxg5,O-O-O,Nd7,Bxe6+,Kh8,Rdg1,Nb6,e4,Qf6,Bxf5,Bxf5,exf5,Qxf5,Qb3,Rab8', 'Rxh7+,Kxh7,Rh1+,Nh4,Rxh4+', 'https://lichess.org/training/PcwrG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pcXFI', 'Blitz', 'daavid321', 2273, 'aramburomate', 1965, 'e4,c5,Nc3,d6,g3,g6,Bg2,Bg7,d3,Nc6,f4,Qc7,Nf3,a6,O-O,Bg4,Be3,Qd7,Nd5,Rd8,Qd2,Nd4,c3,Nxf3+,Bxf3,Bxf3,Rxf3,e6,Nb6,Qb5,Nc4,Ne7,a4,Qc6,a5,d5,exd5,exd5,Ne5,Bxe5,fxe5,d4,Rf6,dxe3,Qxe3,Qc8,e6,fxe6,Rxe6,Qc7,Re1,Rd7,Qh6,Kd8,Qg7,Rg8', 'Qxg8+,Nxg8,Re8#', 'https://lichess.org/training/pcXFI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pCXRS', 'Blitz', 'Monty29', 1960, 'arman00', 1930, 'd4,Nf6,Bg5,e6,e3,Be7,Bd3,O-O,f4,b6,Nf3,Bb7,Nbd2,c5,Bxf6,Bxf6,c3,cxd4,exd4,Bh4+,g3,Bf6,O-O,Nc6,Ne5,Nxe5,fxe5,Bg5,Ne4,Bh6,Nf6+,Kh8,Qh5,d6,Nxh7,dxe5,Nxf8,Qd5,Kf2', 'Qg2+,Ke1,Qd2#', 'https://lichess.org/training/pCXRS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pCYbC', 'Blitz', 'theoonetheo', 1722, 'xlm1962', 1766, 'd4,d5,c4,Nc6,e3,Nf6,Nc3,a6,Nf3,dxc4,Bxc4,Bg4,h3,Bxf3,Qxf3,e6,O-O,Be7,a3,O-O,Bd3,h6,b4,b5,Ne4,Qd7,Nxf6+,Bxf6,Be4,Nxd4,exd4,Rad8,Bb2,Bxd4,Bxd4,Qxd4,Rad1,Qb2,Rxd8,Rxd8,Rb1,Qd4,Bc2,Qe5,Rd1,Rxd1+,Qxd1,g6,Qd8+,Kg7,Qd3,Qe1+,Kh2,Qxf2,Bb3,Qf4+,Kg1,Qc1+,Kf2,Qxa3,Qd4+,Kf8,Bc2,h5,Qf4,Qc3,Bxg6,Qb2+,Kg3,Qc3+,Kh4,Qe1+,g3,f5,Qh6+,Ke7,Qg7+,Kd6,Qd4+,Ke7,Qc5+,Kf6,Bxh5,Qe4+,g4', 'Qe1+,Qf2,Qxf2#', 'https://lichess.org/training/pCYbC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PcyoE', 'Blitz', 'harut2000', 2278, 'mister_1989', 2197, 'e4,Nf6,e5,Nd5,d4,Nb6,c4,d6,exd6,cxd6,Nf3,g6,Be2,Bg7,O-O,O-O,Nc3,Nc6,d5,Ne5,Nxe5,dxe5,c5,Nd7,Be3,f5,f3,Nf6,Bc4,Kh8,Qd2,f4,Bf2,g5,Rfe1,Nh5,Ne4,h6,d6,exd6,Nxd6,Qf6,Rad1,Rb8,Qd5,g4,Bh4,Qxh4,Qg8+,Rxg8', 'Nf7+,Kh7,Bd3+,e4,Bxe4+,Bf5,Bxf5#', 'https://lichess.org/training/PcyoE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pcYoX', 'Rapid', 'ezraravin', 1747, 'AdeilsonB', 1812, 'e4,e6,d4,d6,Nc3,h6,e5,d5,g3,c5,Bg2,c4,Nge2,Bd7,O-O,b5,a4,b4,Nb5,Bxb5,axb5,Qb6,Bd2,Qxb5,Ra2,a5,Nf4,Nc6,Be3,Nge7,Nxe6,fxe6,Qh5+,g6,Qg4,Kd7,Bh3,Nd8,Rfa1,a4,f4,b3,cxb3,cxb3,Ra3,Qc6,Rc1,Qb6,Rca1,Qb5,Rc1,Nf5,Qxg6,Bxa3,Bxf5,Re8,bxa3,Re7,Bd3,Qb6,Bd2,Nc6,f5,Qxd4+,Kg2,Rc8,f6,Ree8,Qh7+,Kd8,Rxc6,Rxc6,Ba5+,Kc8', 'Ba6+,Rxa6,Qc7#', 'https://lichess.org/training/pcYoX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pcyy7', 'Rapid', 'Zinedine100', 1790, 'slowfall', 1679, 'e3,e6,b3,d5,Bb2,c5,Nf3,Nf6,Bxf6,Qxf6,Nc3,d4,Nb5,Qd8,exd4,cxd4,Nbxd4,Bc5,Bb5+,Nc6,Bxc6+,bxc6,Nxc6,Qb6,Nce5,Bxf2+,Kf1,Ba6+,c4,O-O,d4,Be3,Nd7,Qc7,Nxf8,Rxf8,Qd3,Bh6,g3,Rd8,Ne5', 'Qxe5,dxe5,Rxd3', 'https://lichess.org/training/Pcyy7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pcZKl', 'Rapid', 'dmr1848', 1927, 'mehr_r', 1971, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,Nf6,Re1+,Be7,dxc5,O-O,Ne5,Bxc5,Nxc6,Qb6,Nd4,Bg4,Qd3,Bh5,h3,Bg6,Qd1,Rfe8,Rxe8+,Rxe8,b4,Bd6,Be3,Qc7,Nf3,h6,Nbd2,Qxc3,a3,Rxe3,fxe3,Qxe3+,Kh1,Ne4,Nxe4,Bxe4,Qe1,Qf4,Qh4,Qe3,Qd8+,Bf8,Qe8,Qc3,Rf1,Qxa3,Ne5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/pcZKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PcZu2', 'Classical', 'mohsen2002002', 2017, 'Dim1976', 2020, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,h6,Nc3,Be7,Bc4,Nf6,O-O,O-O,f3,Bd7,Be3,Nc6,a3,Nh7,Qd2,Nxd4,Bxd4,Bf6,Bxf6,Nxf6,Nd5,Nxd5,Bxd5,Qc8,Rad1,Be6,Rfe1,Bxd5,Qxd5,Rb8,e5,dxe5,Qxe5,Re8,Qxe8+,Qxe8,Rxe8+,Rxe8,Rd7,Rc8,c4,Kf8,c5,Ke8,Rd3,Ke7,b4,c6,Kf2,b6,Rc3,b5,Rd3,Rd8,Rxd8,Kxd8,f4,Ke7,Ke3,Ke6,Ke4,g6,g4,f5+,gxf5+,gxf5+,Kd4,h5,h3', 'h4,Kd3,Kd5', 'https://lichess.org/training/PcZu2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pCZUZ', 'Rapid', 'adescartesio', 1751, 'LoiDee', 1770, 'e4,e5,f4,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Nc6,Bb5,Ne7,Nf3,exf4,Bxf4,g6,Bxc7,Bg7,Nc3,Bg4,Ke2,O-O,h3,Bxf3+,gxf3,a6,Ba4,b5,Bb3,Rac8,Bf4,Rfd8,Rad1,Nd4+,Ke3,Nec6,Nd5,Nxb3,cxb3,Re8,h4,h5,Bg5,Re6,Rd3,Kh7,Rhd1,Bh6,Bxh6,Kxh6,a3,Ne5,Rd4,f5,Nf4,Ree8,Rd6,fxe4,fxe4,Rc3+,Ke2,Rec8,Rxa6,Rxb3,Rdd6,Rxb2+,Ke3,Nc4+,Kd4,Nxd6,Rxd6,Rd2+,Nd3,Rc4+,Ke3,Rh2,Nf4,Rxh4,Rxg6+,Kh7,Rb6,Rc3+,Kd4,Rxa3,Ne6,Ra4+,Kd5,b4,Rb7+,Kg6,Rg7+,Kf6', 'e5+,Kf5,Rg5#', 'https://lichess.org/training/pCZUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pd2Bv', 'Blitz', 'Patralgan', 2122, 'pyjama23', 2118, 'd4,f5,Bg5,g6,e3,Bg7,Nf3,Nf6,c4,d6,Nc3,Nbd7,h4,O-O,Qb3,h6,Bf4,c5,Bd3,Re8,O-O-O,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Rxe5,Bxf5,Qe8,Bc2,Bf5,Qxb7,Bxc2,Kxc2,Ng4,Rd7,Bh8,Nd5,Nxf2,Ne7+,Rxe7,Rxe7,Qf8,Rb1,Rd8,Rf1,Bf6,Re6,Ng4,Qe4,h5,Qxg6+,Qg7,Qxh5,Ne5,Rfxf6,Qxg2+,Kb3,Rb8+,Ka4,Qc2+,Ka5', 'Nxc4+,Ka6,Qa4#', 'https://lichess.org/training/Pd2Bv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pd40z', 'Blitz', 'mayar009', 1848, 'rister_cesar', 1814, 'e4,c6,Nf3,d5,Nc3,d4,Ne2,c5,c3,dxc3,bxc3,Bg4,Ng3,Nf6,Bb5+,Nbd7,h3,Bxf3,Qxf3,e5,O-O,a6,Bxd7+,Qxd7,Nf5,g6,Ne3,Bg7,d4,cxd4,cxd4,Qxd4,Ba3,Qxe4,Qd1,Rd8,Qb3,Rd3,Qc2,Rxa3', 'Qc8+,Ke7,Qc5+,Ke6,Qxa3', 'https://lichess.org/training/pd40z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pd4SB', 'Rapid', 'wadymus', 1922, 'last_brave_heart', 1853, 'e3,e5,b3,a5,Bb2,a4,Bxe5,axb3,axb3,Rxa1,Bxa1,Nf6,Nf3,d5,Ne5,Bd6,Qf3,Bxe5,Bxe5,Bg4,Qf4,Nbd7,Bxc7,Qc8,Nc3,O-O,Be5,Re8,Bxf6,Nxf6,Bd3,d4,Ne4,dxe3,Nxf6+,gxf6,dxe3', 'Qc3+,Kf1,Qa1#', 'https://lichess.org/training/Pd4SB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pD7r5', 'Rapid', 'sakk1992', 1883, 'max1900', 1756, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Nf3,Be7,cxd5,Nxd5,Bc4,Nxc3,bxc3,O-O,O-O,Nc6,Bf4,Na5,Bd3,Bd7,Qc2,g6,Ne5,Bf6,Rab1,b6,Bh6,Bg7,Bxg7,Kxg7,Qd2,Nc6,Be4,Rc8,f4,Nxe5,fxe5,Bc6,Bxc6,Rxc6,a3,Qc8,Rf3,Qd8,Rh3,h5,g4,Rh8,gxh5,Rxh5', 'Rxh5,gxh5,Qg2+,Kh8,Qxc6', 'https://lichess.org/training/pD7r5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pD8Br', 'Blitz', 'michchess', 1923, 'General_10', 1780, 'd4,d5,Nf3,Nf6,Bf4,c5,e3,Nc6,c3,Bg4,Nbd2,e6,h3,Bh5,Be2,Bd6,Bxd6,Qxd6,O-O,O-O,dxc5,Qxc5,Nb3,Qe7,Nbd4,Rac8,Nxc6,bxc6,Ne5,Bxe2,Qxe2,Qd6,Nd3,e5,Rad1,Qe6,Nc5,Qe7,b4,Rfd8,Rd2,a5,a3,axb4,axb4,Nd7,Nb3,Nb6,Nc5,Nc4,Ra2,Qf6,Rfa1,e4,Ra7,Qxc3,Qe1,Qb2,Rb1,Qf6,Qe2,Rb8,Na6,Ra8,Rxa8,Rxa8,Nc5,Qe7,Nb3,Qxb4,Nd2,Qc5,Nxc4,Qxc4,Qg4,h6,Kh2,Qc2,Rb7,Qxf2,Qd7,Ra2,Qg4,c5,Rd7,Rd2,Rd8+,Kh7,Rc8,c4,h4,Qxe3', 'Qf5+,g6,Qxf7#', 'https://lichess.org/training/pD8Br');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PD91N', 'Rapid', 'Smdip', 2334, 'KindOfBlue', 2013, 'e4,Nf6,d3,d5,Nd2,Bg4,Be2,Bxe2,Qxe2,e6,exd5,Qxd5,Ngf3,Nc6,O-O,Be7,Nc4,O-O,Bf4,Rac8,Rfe1,a6,c3,Rfd8,Rad1,b5,Ne3,Qd7,d4,Nd5,Bg3,h6,h3,Nxe3,Qxe3,Bd6,Bxd6,Qxd6,Nd2,Qd5,a3,Na5,Ne4,Nc4,Qe2,Qb7,Nc5,Qb6,a4,Rd5,axb5,axb5,b3,Na5,Ra1,Nb7', 'Ra6,Nxc5,Rxb6', 'https://lichess.org/training/PD91N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pD99j', 'Blitz', 'jipainfo0', 1566, 'Lytvak', 1600, 'f4,d5,Nf3,Nc6,e3,Bg4,Bb5,a6,Bxc6+,bxc6,O-O,Nf6,Qe1,e5,fxe5,Ne4,d3,Nc5,b3,Be7,Bb2,O-O,Nbd2,Bxf3,Rxf3,Bh4,Qe2,Qg5,Rh3,Qe7,Qh5,g5,Nf3,Ne6,g3,Ng7,Qh6,Nf5,Qh5,Ng7,Qg4,f5,exf6,Qxe3+,Kh1,h5,Nxg5,hxg4,Rxh4,Nf5', 'f7+,Rxf7,Rh8#', 'https://lichess.org/training/pD99j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pDAFL', 'Blitz', 'pioonier', 1987, 'Zaicev', 2009, 'd4,d6,c4,Nf6,Nc3,g6,e4,Bg7,f3,O-O,Be3,e5,d5,Nbd7,Qd2,Nb6,Bd3,c5,Nge2,Nh5,g4,Nf6,h4,Bd7,h5,Na4,Bh6,Nxc3,Nxc3,a6,Bxg7,Kxg7,hxg6,fxg6,Qh6+,Kg8,O-O-O,Rf7,Ne2,b5,Ng3,bxc4,Bxc4,Bb5,Bb3,c4,Bc2,Qa5,Kb1,c3,g5,Nd7,Rdg1,Qb4,Bb3,Bc4,Rg2,Bxb3,axb3,Qxb3,Nh5,Rb8,Nf6+,Nxf6,gxf6,c2+,Rxc2,Qxf3,Rhc1,Qxe4,Ka1,Rbf8,Rc8,Qxd5', 'Rxf8+,Rxf8,Qg7#', 'https://lichess.org/training/pDAFL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pDdrj', 'Rapid', 'kembarennoel', 1821, 'zocimo_orozco', 1807, 'f4,d5,d4,c5,e3,cxd4,exd4,Nc6,c3,Nf6,Nf3,Bg4,Be2,e6,O-O,Ne4,Nbd2,f5,Nxe4,dxe4,Ne5,Bxe2,Qxe2,Nxe5,fxe5,Qh4,Rf4,Qe7,Qh5+,g6,Qd1,Bh6,Rf1,Bxc1,Qa4+,Kf7,Raxc1,g5,Qc2,Kg7,g4,Raf8,c4,h5,gxf5,exf5,Rf2,f4,Qxe4,Kh6,Kg2,Qe6,d5,Qg4+,Kh1,Qh4,Rg2', 'f3,Qxh4,fxg2+,Kxg2,gxh4', 'https://lichess.org/training/pDdrj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pdhjR', 'Rapid', 'lionishere', 1795, 'AJ1958', 1809, 'd4,d5,Bf4,c5,c3,c4,e3,Nc6,Nf3,f6,Be2,h5,O-O,g5,Bxg5,fxg5,Nxg5,Nf6,f4,Ne4,Bxh5+,Kd7,Nf7,Qc7,Nxh8,Bg7,Nf7,Nf6,Ne5+,Nxe5,fxe5,Ne4,Qg4+,Kc6,Qxg7,Kb6,Qg6+,e6,Bf3,Bd7,Bxe4,dxe4,Qxe4,Rg8,Nd2,Bc6,Nxc4+,Ka6,Qxc6+', 'Qxc6,Rf2,Qxc4', 'https://lichess.org/training/pdhjR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pDHzN', 'Blitz', 'CM64', 1814, 'seifpanahijabar', 1936, 'd4,e6,c4,d5,Nc3,Nf6,e3,Be7,Nf3,O-O,Bd3,b6,O-O,Bb7,cxd5,Nxd5,Re1,Nd7,e4,Nxc3,bxc3,e5,Qc2,Bd6,a4,Qe7,Bg5,f6,Bd2,c5,a5,cxd4,cxd4,Rfc8,Qb2,exd4,Nxd4,Be5,Qb3+,Kh8,Nf5,Qf8,a6,Bc6,Bb4,Nc5,Rac1,Nxb3,Bxf8,Nxc1', 'Bxg7+,Kg8,Bc4+,Bd5,Bxd5#', 'https://lichess.org/training/pDHzN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PDiNZ', 'Blitz', 'Trallemannen', 1702, 'rS1lencer', 1646, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,Ne2,Bg4,O-O,e6,d3,Bd6,Bg5,O-O,Nd2,Nbd7,Qe1,Qc7,Ng3,h6,Be3,a5,a4,Bc5,c3,Bxe3,Qxe3,Rac8,f3,Bh5,Nxh5,Nxh5,g4,Nhf6,g5,hxg5,Qxg5,Qb6+,d4,Qc7,Rf2,Rfd8,Rg2,g6,Bc2,e5,Bxg6,fxg6,Qxg6+,Kf8,Qg7+,Ke8,Qh8+,Ke7,Rg7+,Ke6', 'Qh3+,Kd6,dxe5+,Nxe5,Rxc7', 'https://lichess.org/training/PDiNZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pditc', 'Rapid', 'Sa3raan', 1706, 'Ranger24', 1787, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Bf5,Nc3,e6,Nf3,Qc7,d3,a6,g3,Nf6,Bf4,Bd6,Qd2,Bxf4,gxf4,Nh5,Ne2,Bg4,Nfd4,Nc6,h3,Nxd4,hxg4', 'Nf3+,Kd1,Nxd2', 'https://lichess.org/training/Pditc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pDIuz', 'Rapid', 'Echo1965', 2187, 'libero2017', 2158, 'd4,c6,c4,d5,Nf3,Nf6,Bf4,g6,e3,Bg7,Nc3,Bg4,h3,Bxf3,Qxf3,O-O,g4,h6,h4,Re8,g5,hxg5,hxg5,Nh5,cxd5,Nxf4,Qxf4,cxd5,Bb5,Nc6,Rh2,e5,Qh4,exd4,Bxc6,bxc6,Ne2,Qa5+,Kf1,dxe3,fxe3,Rxe3,Rf2,Re4,Nf4,Rae8,Kg2,Qb4,Rh1,Re1', 'Qh7+,Kf8,Nxg6#', 'https://lichess.org/training/pDIuz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pDjHk', 'Blitz', 'Manu_1988', 1610, 'GALLETTO-2', 1640, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Bb4+,Nc3,Ne7,a3,Ba5,Nf3,O-O,O-O,c6,Bg5,Qd7,Ne5,Qc7,Bh4,Ng6,Nxg6,fxg6,Qg4,Qf4,Bxe6+,Bxe6,Qxe6+,Kh8,Bg3,Qf6,Qxf6,Rxf6,Rad1,Nd7,e5,Re6,Ne4,Rae8,Nc5,Nxc5,dxc5,Bc7,f4,g5,Rfe1,gxf4,Bxf4,h6,h4,Bxe5,Bxe5,Rxe5,Rxe5,Rxe5,Rd7,Rxc5,Rxb7,a5,b4,axb4,Rxb4,Ra5,a4,c5,Rc4,Kh7,Kf2,Kg6,g4,Kf6,Ke3,g5,h5,Ke5,Kd3,Kd5,Re4,Ra6,Rc4,Rf6,a5', 'Rf3+,Ke2,Kxc4,Kxf3,Kb5', 'https://lichess.org/training/pDjHk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pdKfi', 'Rapid', 'rajjan', 2348, 'burj', 2251, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,Bd2,O-O,Nf3,c5,cxd5,Nxd5,Bc4,Nb6,Bb3,cxd4,exd4,Bg4,d5,Na6,h3,Bf5,O-O,Rc8,Re1,Nb4,g4,Bd7,Qe2,Re8,a3,Na6,Rac1,Nc5,Ba2,Nca4,Nxa4,Rxc1,Bxc1,Nxa4,Ne5,a6,Qf3,Bxe5,Rxe5,Bb5,Bg5,Qc7,d6,exd6,Rxe8+,Bxe8,Qf6,Nc5,Bh6,Ne6,Bxe6,fxe6', 'Qf8#', 'https://lichess.org/training/pdKfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pdkme', 'Rapid', 'hendrabret_cianjur', 1872, 'andersonmu', 1911, 'c4,c5,b3,Nf6,Bb2,d5,e3,e6,d4,b6,cxd5,Nxd5,dxc5,bxc5,Bc4,Bb7,Ne2,f6,O-O,Be7,Ng3,O-O,e4,Nb6,Qg4,Nxc4,bxc4,e5,Na3,Bc8,Rad1,Qb6,Qe2,Ba6,Nf5,Nc6,Rd7,Rad8,Nxe7+,Nxe7,Rxe7,Rb8,Bc1,Qa5,Nb1,Rxb1,Qg4,Rf7,Qc8+,Rf8,Qd7,Rb7,Rxg7+,Kh8,Rxh7+,Kg8,Qg4+,Kxh7,Qf5+,Kg7,Qg4+,Kf7,Bh6,Rg8,Qh5+,Ke6', 'Qf5+,Ke7,Qh7+', 'https://lichess.org/training/pdkme');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pdKpl', 'Rapid', 'Pedro_112', 2003, 'kotsa3', 2018, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,e5,Qb6,Qxb6,axb6,Nc3,d6,Bf4,Ra5,exd6,Bxd6,Bxd6,cxd6,Be2,Be6,O-O,Nf6,a3,Ke7,Bf3,d5,Rad1,Kd6,Rfe1,Rc5,Rd2,Rd8,Ne4+,Nxe4,Bxe4,g6,Bf3,Rdc8,c3,h5,Red1,Ke5,g3,Rd8,Rd4,b5,Be2,Kd6,Rb4,Kc6,Kg2,Ra8,Rdd4,b6,Kf3,Bg4+,Ke3', 'Re8+,Kd3,Bxe2+', 'https://lichess.org/training/pdKpl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PdMQZ', 'Bullet', 'JSopinka', 2020, 'negrinimauro', 2012, 'e4,Nf6,Nf3,Nxe4,d3,Nf6,Nc3,d5,Bg5,Bg4,Be2,e6,h3,Bh5,g4,Bg6,Ne5,Nbd7,d4,Be7,Qd2,Ne4,Nxe4,Bxe4,Bxe7,Qxe7,f3,Bg6,g5,Bf5,O-O-O,h6,h4,Nxe5,dxe5,Qc5,Kb1,O-O-O,Bd3,Bxd3,Qxd3,hxg5,hxg5,g6,Rh6,Rxh6,gxh6,Rh8,Qd2,Rh7,b3,Qf8,Rh1,Qh8,Qf4,b6,Qg5,Kd7,f4,c5,Kb2,Ke8,Kc3,Kd7,Kd3,Kc7,Qe7+,Kc6,Qxa7,Rxh6,Rxh6,Qxh6,Qxf7,Qh3+,Kd2,Qg2+,Kc1,Qg1+,Kb2,Qd4+,Ka3,Qb4+,Kb2,Qd4+,c3,Qd2+,Ka3', 'Qc1+,Ka4,b5+,Ka5,Qa3#', 'https://lichess.org/training/PdMQZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pDMX0', 'Blitz', 'Frankstein', 1839, 'eljello', 1566, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Bd3,Bb4,Bd2,Bb7,O-O,Nf6,Re1,O-O,a3,Bd6,Nb5,Re8,Bg5,Be7,f4,a6,Nd4,Nd7,Bxe7,Qxe7,Nf5,Qc5+,Ne3,d4,Ng4,e5,fxe5,Nxe5,Nxe5,Rxe5,Qg4,Rae8,Rxe5,Qxe5,Rf1,Qe3+,Kh1,Be4,Qd7,Bxd3', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/pDMX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PDnN2', 'Blitz', 'ostapbender1', 1763, 'Andrey326', 1726, 'e4,c5,d3,Nc6,Nf3,e6,Be2,g6,Nc3,Bg7,Bg5,Nge7,Qd2,f6,Bh6,O-O,Bxg7,Kxg7,h4,d5,h5,dxe4,Nxe4,f5,Neg5,h6,Nh3,g5,Nhg1,Nd5,O-O-O,Nf4,g3,Nxe2+,Qxe2,Nd4,Nxd4,Qxd4,Nf3,Qf6,Ne5,b6,Ng6,Rd8,Rhe1,Bd7,f3,Re8,f4,g4,Ne5,Bb5,Qg2,Rad8,Qb7+,Qe7,Qg2,Ba6,Qh2,Bb7,Ng6,Qd6,Re5,Bf3,Rde1,c4,dxc4', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/PDnN2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pdNUp', 'Rapid', 'bahram007', 1603, 'Chesshanter', 1796, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,d6,c3,O-O,Re1,Bg4,h3,Bh5,a4,a5,Bb3,h6,Nbd2,Nh7,Nf1,Ng5,g4,Bg6,Nxg5,Bxg5,Bxg5,Qxg5,Ng3,Kh7,Rf1,Qf4,Kh2,Nd8,Qc1,Ne6,Bxe6,fxe6,Qxf4,Rxf4,Ne2,Rf3,Rad1,Raf8,Kg2,d5,Ng3,d4,cxd4,exd4,h4,Be8,b3,b5,Ne2,e5,Ng3,bxa4,Nf5,Rf4,bxa4,Bxa4,Ra1,Rxg4+,Kh3,Bd7,Kxg4,g6,Rxa5,gxf5+,exf5,Bxf5+,Kg3,Bxd3,Rd1,e4,Rc5,Rf7,Rd5,Be2,R1xd4,Rf3+,Kg2,Rf4,Rd7+,Kg6,Rxc7,Rxh4,Rd6+,Kh5,Rc5+,Kg4,Rg6+,Kf4,Re6', 'Bf3+,Kf1,Rh1#', 'https://lichess.org/training/pdNUp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PdOAL', 'Rapid', 'Papakapi', 1688, 'sangsang238', 1674, 'e4,g6,Nf3,Bg7,d4,d6,Bc4,Nd7,Ng5,e6,Qf3,Ngf6,Bxe6,fxe6', 'Nxe6,Qe7,Nxc7+,Kd8,Nxa8', 'https://lichess.org/training/PdOAL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pDoHb', 'Blitz', 'szustan1952', 1661, 'BoJacksonville', 1664, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nd5,Bc5,Bg5,h6,Bxf6,gxf6,Bd3,d6,O-O,Be6,c4,dxc3,Nxc3,Bg4,a3,a5,Nd5,Be6,Rc1,Bxd5,exd5,Ne5,Be4,Qd7,Nxe5,fxe5,Qb3,O-O-O,Rxc5,dxc5,Qc3,b6,b4,Qb5,bxa5,Qxa5,Qc1,Qa4,Bf5+,Kb8,Qe3,f6,Be6,Qd4,Qe2,Qa4,Qe3,h5,h3,Qf4,Qd3,Qa4,Rb1,Rhe8,Qc3,c6', 'Rxb6+,Kc7,Rxc6+,Qxc6,dxc6,Rd1+,Kh2', 'https://lichess.org/training/pDoHb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pDPbu', 'Blitz', 'Kamil4301', 1516, 'Jimmie', 1522, 'e4,d5,Nf3,d4,Bc4,Bg4,d3,Nc6,h3,Bh5,Bf4,e5,Bh2,Bb4+,Nbd2,Nf6,g4,Bg6,Nxe5,Nxe5,Bxe5,O-O,f4,Nd7,Bxd4,Nb6,Bxb6,cxb6,a3,Bc5,f5', 'Qh4+,Kf1,Qf2#', 'https://lichess.org/training/pDPbu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PdrU6', 'Rapid', 'howcanibesobadatthis', 2011, 'MP123456', 1981, 'e4,c5,Nc3,d6,Nge2,Nc6,g3,g6,Bg2,Bg7,O-O,e6,d3,Nge7,f4,O-O,Be3,Qc7,h3,a6,a4,b6,Kh2,Bb7,Qd2,Nd4,g4,f5,exf5,Bxg2,Kxg2,Qc6+,Kh2,Nf3+,Rxf3,Qxf3,fxe6,d5', 'Ng1,Qxe3,Qxe3', 'https://lichess.org/training/PdrU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pdrYc', 'Blitz', 'achja', 2090, 'Buja64', 1905, 'e4,c5,Nf3,Nc6,Bb5,Qb6,Nc3,e6,Bxc6,Qxc6,d4,cxd4,Nxd4,Qb6,O-O,a6,Re1,Bb4,Nd5,exd5,exd5+,Kf8,c3,Bc5,Qe2,Nf6,b4,Bxd4', 'Qe7+,Kg8,Qe8+,Nxe8,Rxe8#', 'https://lichess.org/training/pdrYc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pDszN', 'Blitz', 'mozartinho', 1690, 'BrunoRola', 1827, 'd4,Nf6,e3,e6,c4,c5,Nf3,cxd4,exd4,b6,Bd3,Bb7,O-O,d6,Nbd2,Nbd7,Re1,Be7,Ne4,Rc8,b3,O-O,Ba3,Nxe4,Bxe4,Bxe4,Rxe4,Nf6,Re1,Qc7,Rc1,Qb7,Qc2,h6,Nd2,Rfe8,Ne4,Nxe4,Qxe4,Qxe4,Rxe4,Bg5,f4,Be7,Re2,a5,Rec2,Rc7,c5,dxc5,dxc5,bxc5,Kf2,Rec8,Ke3,f5,Rc4,g5,Ra4,gxf4+,Kf3,Ra7,b4,Kf7,bxc5,Rac7,Rxa5,Kf6,Bb2+,e5,Ra6+,Kg5,Bxe5,Rxc5,Rxc5,Rxc5,h4+,Kxh4', 'Rxh6+,Kg5,Bxf4#', 'https://lichess.org/training/pDszN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PDu7L', 'Classical', 'ghetu', 1729, 'shobi007', 1687, 'd4,d5,Nf3,Bg4,Bf4,Bxf3,exf3,e6,Be2,Bd6,Bg3,Bxg3,fxg3,Nc6,Bb5,Ne7,Nc3,O-O,Qe2,a6,Bxc6,Nxc6,Qe3,b5,Ne2,a5,O-O,a4,Nf4,Re8,Rfe1,Qf6,Qc3,Nxd4,Qxc7,Rac8,Qb6,Nxc2,Rec1,Nxa1,Rxa1,Qxb2,Rf1,Rc1,h4,Qb1,Rxc1,Qxc1+,Kh2,g5,hxg5,e5,Nxd5,Qxg5', 'Nf6+,Kg7,Nxe8+', 'https://lichess.org/training/PDu7L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pdUTF', 'Blitz', 'abdollah', 2081, 'Il-Bobby', 2019, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,Be7,Bg5,O-O,e3,Nbd7,Bd3,b6,Qc2,Bb7,Ne5,h6,Nxd7,Qxd7,cxd5,hxg5,e4,exd5,e5,Ne4,f3,Nxc3,bxc3,c5,Bf5,Qb5,h4,g4,h5,cxd4,cxd4,Bc8,h6,g5,e6,Bb4+,Kf2,gxf3,gxf3,Bxe6,Bxe6,fxe6', 'Qg6+,Kh8,Qg7#', 'https://lichess.org/training/pdUTF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PDuwA', 'Classical', 'MsConcordia', 1645, 'kuafrtim', 1649, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,c3,dxc3,Nxc3,Nf6,Qb3,Qe7,d3,d5,Bb5+,c6,Nxd5,Nxd5,Bc4,Nf6,O-O,Be6,e5,Bxc4,Qxc4,Nd5,d4,O-O-O,Re1,Qb4,Qe2,Qxd4,Rd1,Nf4', 'Qg4+,Ne6,Rxd4', 'https://lichess.org/training/PDuwA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pdv0U', 'Rapid', 'Aguias10', 1738, 'IVANUXV', 1795, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nf6,O-O,O-O,d3,h6,Be3,Bb6,Nd5,d6,Nxf6+,Qxf6,h3,Be6,Bd5,Bxd5,exd5,Ne7,c4,Rac8,Bxb6,axb6,b3,c6,dxc6,bxc6,d4,exd4,Nxd4,Rfe8,Nf3,d5,cxd5,Nxd5,Rc1,Qg6,Qd2,Red8,Ne5,Qf6,Ng4,Qf5,Ne3,Nxe3,Qxe3,c5,a4,Re8,Qd2,Rcd8,Qc2,Qf4,a5,b5,Qxc5,Rc8,Qa3,b4,Qb2,Ra8,Qa2,Re5,a6,Re6,a7,Re7,Rc4,Qd6,Rfc1,Rexa7,Rc8+,Rxc8', 'Rxc8+,Kh7,Qxa7', 'https://lichess.org/training/pdv0U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PdVr2', 'Rapid', 'Wishapawn', 1894, 'LaciSzocs', 1944, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Bg4,Be2,e6,h3,Bh5,c4,Nb6,b3,Be7,O-O,O-O,Bb2,c5,Ne5,Bxe2,Qxe2,Nc6,Nxc6,bxc6,dxc5,Bxc5,Rd1,Qe7,Qg4,f6,Nd2,Rad8,Ne4,f5,Qxg7+,Qxg7,Bxg7,Bxf2+,Nxf2,Kxg7,Rd3,Rxd3,Nxd3,Rd8,Nf4,Kf6,Re1,e5,Nh5+,Kg5,g4,Rd2,Ng3,fxg4', 'Ne4+,Kf4,Nxd2', 'https://lichess.org/training/PdVr2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PdwfK', 'Rapid', 'KIKO-TRUKINI', 1675, 'Ralloni', 1643, 'e4,c5,Bc4,e6,Nf3,d5,Bb5+,Bd7,Bxd7+,Nxd7,exd5,exd5,O-O,Ngf6,Re1+,Be7,d4,O-O,dxc5,Bxc5,h3,Rc8,Bg5,Qb6,Be3,Qxb2,Nbd2,Bxe3,Rxe3,Rxc2,Re2,Re8,Nc4,dxc4,Rxc2,Qb5,Qb1,Qc6,Qb4,b5,Re1,Rxe1+,Qxe1,a5,g4,h6,Nd4,Qb6,Nf5,Nc5,Qe3,a4,g5,Nd5,Qd4,Qg6,Qxd5,Qxg5+,Kf1,Nd3,Re2', 'Qc1+,Kg2,Nf4+,Kh2,Nxd5', 'https://lichess.org/training/PdwfK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PE0VA', 'Blitz', 'udroiumarian', 1567, 'messi63', 1537, 'e4,e5,Nf3,Nc6,d4,exd4,Ng5,Nf6,Nf3,Bb4+,Bd2,Bc5,Bd3,O-O,O-O,d6,a3,Bg4,b4,Bb6,a4,a6,a5,Ba7,h3,Bh5,Be2,Nxe4,Ra3,Nxd2,Nbxd2,Re8,Rb3,b6,axb6,Bxb6,b5,axb5,Rxb5,Bg6,Re1,Ne5,Nxe5,dxe5,Bf3,Rb8,Rbxe5,Rxe5,Rxe5,Qh4,Qe2,h6,Be4,Qf6,Bxg6,fxg6,Re4,Rf8,Nf3,Kh7,Re6,Qf5,Re5,Qf4,Qd3,c5,Qa6,Bc7,Re6,Rb8,Qa2,Rb6,Rxb6', 'Qc1+,Ne1,Qxe1#', 'https://lichess.org/training/PE0VA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PE2kU', 'Rapid', 'estig30', 1817, 'eraserXD', 1849, 'd4,Nf6,Bf4,d6,e3,g6,c4,Bg7,Nc3,O-O,Rc1,Nbd7,Nf3,c5,Be2,a6,a3,Rb8,dxc5,Nxc5,b4,Ncd7,c5,Nh5,cxd6,Nxf4,exf4,Re8,O-O,exd6,Re1,Nb6,Nd5,Nxd5,Qxd5,Be6,Qg5,h6,Qxd8,Rbxd8,Rc7,Rd7,Rec1,Bb2,Rxd7,Bxd7,Rc7,Rxe2,Rxd7,Bd4,Rxd6,Bxf2+,Kf1,Ra2,Rd2,Rxd2,Nxd2,Be3,Ne4,Bxf4,g3,Bc1,a4,Ba3,Nc5,Bxb4,Nxb7,Kf8,Ke2,Ke8,Kd3,Kd7,Kc4,Kc7,Nc5,Bxc5,Kxc5,f5,a5,h5,Kd5,g5', 'Ke5,f4,gxf4,gxf4,Kxf4', 'https://lichess.org/training/PE2kU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pE7G6', 'Rapid', 'allgo', 1633, 'kdt34wqx', 1659, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d6,Bg5,Be7,Nc3,O-O,Qd2,h6,Bxh6,gxh6,Qxh6,Ng4,Qh5,Nf6,Qg5+,Kh8,Qh6+,Nh7,h4,Be6,Nd5,Rg8,Ng5,Bxg5', 'hxg5,Rg7,Nf6', 'https://lichess.org/training/pE7G6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pE7hK', 'Classical', 'onionwood', 1686, 'FCRNN', 1661, 'd4,d5,Bf4,Nf6,e3,Nc6,Nd2,a6,a3,e6,Ngf3,Be7,Be2,Ne4,Nxe4,dxe4,Nd2,f5,f3,Bg5,Bxg5,Qxg5,fxe4,fxe4,Nxe4,Qxg2,Bf3,Qh3,Qe2,O-O,Rf1,Bd7,O-O-O,Rad8,d5,Ne5,Ng5,Qh6,Nxe6,Bxe6,dxe6,Qxe6,Be4,Rxd1+,Rxd1,b5', 'Bd5,Qxd5,Rxd5', 'https://lichess.org/training/pE7hK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PE7pk', 'Classical', 'Iseqpe', 1968, 'krus01', 1870, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e5,Nf5,Bxf5,exf5,Nbd7,Bc4,Be7,O-O,b5,Bb3,Rb8,f4,exf4,Bxf4,O-O,Kh1,Nb6,Qf3,Rc8,Rad1,Qd7,Ne4,Qxf5,Nxd6,Bxd6,Bxd6,Qxf3,gxf3,Rfd8,Be5,Nfd5,Rg1,g6,f4,Ne3', 'Rxd8+,Rxd8,Bc7,Rd2,Bxb6', 'https://lichess.org/training/PE7pk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PE9ho', 'Rapid', 'WibkaStar', 1850, 'hak999', 1827, 'e4,e5,d4,exd4,c3,d3,Bxd3,Bc5,Nf3,d6,O-O,Nf6,Bg5,O-O,e5,dxe5,Nxe5,Re8,Nc4,h6,Bh4,Be6,Qc2,Nbd7,Nbd2,c6,Rad1,Qc7,Bg3,Qd8,Ne4', 'Nxe4,Bxe4,Bxc4', 'https://lichess.org/training/PE9ho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pE9xc', 'Blitz', 'TROY86', 2028, 'ivank2000', 2030, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,h3,Nbd7,Bd3,e6,O-O,h6,Re1,Be7,c4,dxc4,Bxc4,O-O,Nc3,Nb6,Bb3,Nbd5,Nxd5,Nxd5,Bd2,Bf6,Bc3,Bd7,Ne5,Rc8,Bxd5,exd5,Qf3,Be6,a3,Re8,Rad1,a6,g4,g6,Kg2,Bg7,h4,a5,Rh1,b5,Bd2,Rc2,b4,a4,g5,h5,Bc1,Bg4,Qxf7+,Kh7,Qxg6+,Kg8,Qf7+,Kh8,Ng6+,Kh7,Rde1,Rxe1,Rxe1,Qc8,Ne7,Bh3+,Kg1', 'Qg4+,Kh2,Qg2#', 'https://lichess.org/training/pE9xc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pEAKz', 'Rapid', 'klemi', 1859, 'Quidam81', 1711, 'd4,e5,d5,Bc5,e3,f5,a3,a5,Bd2,Nf6,Nf3,d6,c3,O-O,b4,axb4,cxb4,Bb6,Nc3,Nbd7,Bc4,Ba7,a4,Nb6,Bb3,e4,Ng1,Ng4,f3,Ne5,Bc2,Nbc4,fxe4,fxe4,Bxe4,Bxe3,Bxe3,Nxe3,Qe2,N5c4,Nf3,Bg4,h3,Bxf3,Bxf3,Qh4+,Qf2,Nc2+,Ke2,Qxf2+,Kxf2,Nxa1,Rxa1,Nd2,Nb5,Nxf3,gxf3,Rf7,Rc1,Rc8', 'Nxd6,Rcf8,Nxf7', 'https://lichess.org/training/pEAKz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('peB82', 'Rapid', 'MarkTov', 2216, 'Arfans-PercasiCMS', 2219, 'c4,Nf6,Nc3,b6,e4,Bb7,d3,e6,e5,Ng8,d4,d5,cxd5,Bxd5,Nxd5,Qxd5,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,Ne7,b3,O-O,Bc4,Qe4+,Qe2,Qxe2+,Bxe2,Nbc6,Bb5,Rad8,Rd1,Nb4,O-O,Nf5,g4,Ne7,Rd2,Nbd5,Rc1,h6,Bc4,g5,Bxd5,Nxd5,Rd3,Rd7,Rcd1,Rfd8,h3,Nf4,R3d2,Nxh3+,Kh2,Nf4,Kg3,c5,dxc5,Rxd2,Rxd2,Rxd2,Nxd2,bxc5,Ne4,Nd3,Kf3,Nxe5+,Ke2,Nd7,f3,f5,Nd6,Kh7,Nc8,a5,Ne7,fxg4,fxg4,Ne5,Nc8,Nxg4,Nd6,h5,Nb7,h4,Nxa5,h3,Kf3,Ne5+,Kg3,g4,Nc4,Nxc4,bxc4,Kg7', 'a4,Kf6,a5', 'https://lichess.org/training/peB82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PedbQ', 'Rapid', 'masakalem78963', 1870, 'karamkale', 2018, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe3,d6,Bc4,Nf6,Nc3,Be7,O-O,O-O,Qe2,a6,Bg5,b5,Bxf6,Bxf6,Bd5,Rb8,a3,b4,axb4,cxb4,Na4,a5,Rad1,b3,cxb3,Bb7,Rfe1,Bxd5,exd5,Rxb3,Nc3,Qb8,Rd2,Bxc3,bxc3,Rxc3,Ra2,Rc5,Qd3,Qa8,Rd1,Rfc8,h3,Rc3,Qd4,R3c4,Qd2,a4,Rda1,h6,Qd1,R8c5,Rxa4,Rxa4,Rxa4,Qxd5,Qxd5,Rxd5,Ra6,f6,Kf1,Kf7,Ke2,Ke6,Ke3,Rb5,Kd4,g6,f3,h5,g4,hxg4,hxg4,g5,Kd3,Rb3+,Ke4,Rb4+,Ke3,Rf4,Ra7,Rb4,Ra6,Rb3+,Ke4,Rb4+,Ke3,Ke5,Ra5+,d5,Kd3,Rb3+,Ke2,Kf4,Rxd5,Rxf3', 'Rf5+,Kxg4,Rxf3', 'https://lichess.org/training/PedbQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PefMR', 'Blitz', 'oagnehm', 1619, 'Debouzze', 1666, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,g6,Nf3,Bg7,Bc4,e6,Nc3,Nge7,O-O,d5,exd5,Nxd5,Nxd5,exd5,Bb5,O-O,Bxc6,bxc6,b3,Re8,Bb2,Bf5,h3,c5,dxc5,Bxb2,Rb1,Bg7,h4,Bxb1,Qxb1,Rc8,b4,a5,a3,axb4,axb4,Rb8,Rd1,Rb5,Nd4,Bxd4,Rxd4,Qd7,Qd1,Qc6,Rxd5,Rxb4,h5,gxh5,Rxh5,Reb8,Qd3,Qg6,Qh3,Rb1+,Kh2,Rf1,Rh6,Qg7,Rh4,Rb2', 'Qc8+,Qf8,Rg4+,Kh8,Qxf8#', 'https://lichess.org/training/PefMR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PEgiG', 'Classical', 'crazyman20', 1645, 'Fox_Tower_7', 1616, 'e4,e5,c4,Bc5,a3,Nf6,d3,Be7,Nc3,O-O,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Nd5,Nc6,Be3,Qd6,Rd1,Nxd5,Rxd5,Qe6,Bd3,Rad8,O-O,Rfe8,Bxa7,Nxa7,Rxd8,Rxd8,Bc2,Qxc4,Bd1,Rd4', 'Bb3,Rd3,Bxc4,Rxf3,gxf3', 'https://lichess.org/training/PEgiG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PeGiM', 'Rapid', 'misterpotpot', 1615, 'ZVERUGER', 1678, 'e4,e5,Nf3,d6,Bc4,Be7,d3,h6,Be3,Nf6,Nc3,c6,d4,Ng4,Bd2,Bh4,Nxh4,Qxh4,g3,Qf6,f3,exd4,Ne2,Ne5,Nxd4,Nxc4,Bc3,Ne3,Qe2,c5,Nf5,Qg6,Nxg7+,Kd8,Qxe3,f6,Nf5,Bxf5,exf5,Qxf5,O-O-O,Kc7,Qe7+,Qd7,Qxf6,Nc6,Rhe1,Raf8,Qg7,Rhg8,Qxh6,Rxf3,Qh4,b5,Rd3,Rxd3,cxd3,b4,Bd2,Nd4,Rf1,Re8,Rf6,Ne2+,Kd1', 'Qa4+,b3,Qxa2', 'https://lichess.org/training/PeGiM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pEGk8', 'Blitz', 'LapaTH_yt', 1768, 'zalesiacz', 1842, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,Nf6,N1c3,Bb4,Nd6+,Bxd6,Qxd6,Qe7,Qxe7+,Nxe7,Bg5,Nfg8,Bc4,h6,Bh4,g5,Bg3,Nf6,Bxe5,Neg8,O-O-O,Rh7,h3,Nh5,g4,Nf4,Bxf4,gxf4,Nd5,Kf8,Nxf4,Nf6,f3,d6,Nd5,Nxd5,Rxd5,Be6,Rd4,Bxc4,Rxc4,f6,Rd1,Rd7,Rcd4,Rad8,c4,Ke7,f4,b6,f5,Kf7,b4,Ke7,Kc2,h5,Kc3,hxg4,hxg4,Rg8,Rg1,Rh8,Rd3,Rh2,Rd2,Rh3+,Rd3,Rh2,a3,Ra2,Kb3,Re2,Rd4,Re3+,Ka4,a6,b5,axb5+,cxb5,Ra7+,Kb4,Raxa3,Rgd1,Rab3+,Ka4,Ra3+,Kb4,Rab3+,Ka4,Ra3+,Kb4,Rab3+,Kc4', 'Rec3+,Kd5,Rxb5#', 'https://lichess.org/training/pEGk8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PEgO6', 'Rapid', 'Govindpawar', 1749, 'Feuerschreiner', 1835, 'd4,d5,c3,Bf5,e3,e6,Be2,Nf6,f4,Nbd7,Nf3,h6,O-O,Bd6,Ne5,Ne4,Bh5,g6,Be2,Nxe5,fxe5,Be7,Nd2,Nxd2,Bxd2,c6,Bg4,Qb6,b4,a5,a3,axb4,axb4', 'Rxa1,Qxa1,Bxg4', 'https://lichess.org/training/PEgO6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('peHe7', 'Blitz', 'EmmyTheCat', 1775, 'nicat1905', 1782, 'd4,f5,c4,Nf6,Nf3,e6,g3,c6,Bg2,d5,O-O,Be7,Nbd2,O-O,b3,b5,Bb2,a6,Ne5,Bb7,Ndf3,Bd6,Qc2,Bxe5,Nxe5,Nbd7,e3,Nxe5,dxe5,Ne4,f3,Ng5,h4,Nf7,e4,fxe4,fxe4,dxc4,bxc4,Rc8,Rad1,Qc7,cxb5,cxb5,Qb3,Qc2,Qxe6,Qxb2,Rd7,Rc2', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/peHe7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PEHVp', 'Rapid', 'saebekassebil', 1911, 'Jesus-Maria-Jose', 1931, 'd4,e6,c4,a6,Nc3,Nf6,Nf3,d5,Bf4,Nbd7,e3,Be7,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,O-O,Re1,Nh5,Bxh7+', 'Kxh7,Ng5+,Bxg5,Qxh5+,Bh6', 'https://lichess.org/training/PEHVp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('peIWd', 'Blitz', 'sloowchess', 1857, 'husseinhamza313', 1861, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,O-O,e5,Nb3,Be6,c4,Be7,Nc3,O-O,Be3,Nbd7,Rc1,Nb6,Nd5,Nbxd5,cxd5,Bd7,f3,b5,Qd2,Rc8,Na5,Nh5,Nc6,Bxc6,dxc6,f5,c7,Qd7,Bb6,h6,Qc3,Bg5,Rc2,fxe4,Bxe4,d5,Rd1,d4,Qb3+,Kh8,Bc6,Be3+,Kh1,Qd6,Ba5,Qg6,Bd7,Rf5,Bxc8', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/peIWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pEK5D', 'Rapid', 'filixius', 2049, 'WadeWilson', 2038, 'c4,e5,e4,Nf6,Nc3,Nc6,g3,Bc5,Bg2,O-O,h3,d6,Nge2,a6,O-O,Nh5,d3,f5,exf5,Bxf5,g4,Bxg4,hxg4,Nf4,Nxf4,exf4,Ne4,Bd4,Rb1,Ne5,Kh2,Qh4+,Bh3,f3,Rg1,Bxf2,Bg5,Bxg1+,Qxg1,f2,Qg2,Nf3+', 'Qxf3,Rxf3,Bxh4', 'https://lichess.org/training/pEK5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pem0m', 'Blitz', 'MihailKotov', 1545, 'Iscuron', 1601, 'f4,d5,Nf3,Nf6,g3,Nc6,Bg2,e5,fxe5,Ne4,d3,Nc5,O-O,Be7,Nc3,O-O,d4,Ne6,e4,dxe4,Nxe4,Ncxd4,Nxd4,Nxd4,c3,Nc6,Qc2,Nxe5,Bf4,Nc6,Rad1,Bd6,Bxd6,cxd6,Rxd6,Qb6+,Kh1,Bf5,Rxf5,Rfe8,Rfd5,h6,h3,Qa6,a3,Qc4,b3,Qa6,b4,b5,Nc5,Qb6,Nd7', 'Re1+,Bf1,Rxf1+,Kg2,Qg1#', 'https://lichess.org/training/Pem0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('peM2w', 'Rapid', 'choche', 2029, 'NM TheCableBox', 2493, 'd4,d5,c4,dxc4,Nc3,e5,d5,c6,e4,Nf6,Bxc4,Bb4,f3,cxd5,exd5,Nh5', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/peM2w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PeMod', 'Blitz', 'RonaldClacio', 2059, 'genakiselev', 2029, 'c4,f5,Nc3,Nf6,g3,g6,Bg2,Bg7,e3,O-O,Nge2,d6,O-O,e5,h3,Nc6,Kh2,a6,a3,e4,d4,h6,b4,Kh7,Bd2,g5,Rc1,Qe8,d5,Ne5,Nb1,Nf3+,Bxf3,exf3,Nd4,g4,Bc3,Ne4,Qc2,Qh5,h4,Bf6,Rh1,Be5,Kg1,Bxg3,fxg3,Nxg3,Rh2,Ne4,Nd2,g3,Rh1,g2,Rh2,f2+,Kxg2,Qg4+,Kh1,Ng3+,Kg2,Ne4+,Kh1,Rg8,Nxe4', 'Qg1+,Rxg1,fxg1=Q#', 'https://lichess.org/training/PeMod');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pEMzG', 'Rapid', 'KIRILL72TMH', 1960, 'PokerStar35', 2089, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Na5,Nxe5,Nxc4,Nxc4,d5,exd5,Nxd5,O-O,Be7,Nc3,O-O,Be3,Nxc3,bxc3,Bf6,Qd2,Be6,Nb2,Rc8,Rad1,c5,Rfe1,Qa5,d4,Qxa2,Rb1,Rfd8,Qc1,cxd4,cxd4,Qa3,Ra1,Qb4,Nd3,Qc3,Rxa7,Bxd4,Bxd4,Rxd4,Re3', 'Rxd3,Rxd3,Qxd3', 'https://lichess.org/training/pEMzG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pEn9J', 'Blitz', 'MaximusOD', 1681, 'fandrioliZ', 1806, 'e4,e6,d4,d5,e5,c5,Nc3,Nc6,Nge2,Qb6,Qd3,cxd4,Nxd4,Nxe5,Qb5+,Qxb5,Ndxb5,Kd8,Bf4,Nc6,Nc7,Rb8,O-O-O,e5,N7xd5,exf4,Nf6+,Kc7,Ncd5+,Kd6,Nxf4+,Ke5,N6d5,Nge7,Bc4,g5,Rhe1+,Kf5,Nxe7+,Nxe7,Nd3,Be6,Re5+,Kf6,Bxe6,fxe6,Nc5,Nc6,Rxe6+,Kf5,Rd5+,Kg4,Re4+,Kh5,h4,Bxc5', 'Rxg5+,Kh6,Re6#', 'https://lichess.org/training/pEn9J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PeNOw', 'Classical', 'pavit2000', 1785, 'capomicio', 1816, 'd4,Nf6,Nc3,d5,Nf3,c6,Bf4,e6,e3,Bd6,Bg3,O-O,Bd3,Bc7,h4,Nbd7,Ne5,Re8,h5,h6,Nxd7,Bxd7,Be5,Bc8,Ne2,Bd6,c3,Bxe5,dxe5,Nd7,Qc2,Nxe5,Bh7+,Kf8,O-O-O,Qe7,f4,Nc4,Qd3,Qc5,b3,Nxe3,Rde1,Ng4,f5,Nf2,Qf3,Nxh1,fxe6,Bxe6,Rxh1,a5,g4,a4,Nd4,Qa3+,Kd1,axb3,Bg6,b2,Nxe6+,Kg8', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/PeNOw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PeOkV', 'Rapid', 'yalmacismail324', 1831, 'BremaB', 1876, 'e4,e6,d4,d5,exd5,exd5,c4,Bb4+,Bd2,Bxd2+,Qxd2,Nf6,cxd5,O-O,Nf3,Re8+,Be2,Qxd5,O-O,Bg4,Nc3,Qh5,Rfe1,Nc6,Rad1,Rad8,h3,Bxf3,Bxf3,Qg6,Rxe8+,Rxe8,d5,Ne5,Qf4,Nxf3+,Qxf3,h6,d6,cxd6,Qxb7,Qc2,Qb3,Qf5,Nd5,Nxd5,Qxd5', 'Re1+,Rxe1,Qxd5', 'https://lichess.org/training/PeOkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PEpix', 'Rapid', 'Ayan4231', 1670, 'rotondo1001', 1675, 'e4,a6,Nf3,h6,d4,b5,Nc3,Bb7,Bd3,e6,a3,c5,Be3,c4,Be2,Nf6,O-O,Nxe4,Nxe4,Bxe4,Nd2,Bb7,Nf3,Qf6,b3,c3,d5,Bxd5,Bd4,Qg6,Bd3,f5,Be2,Bd6,Ne1,O-O,Bxc3,Nc6,a4,b4,Bd2,Ne5,Bf4,Rac8,Bxe5,Bxe5,Bxa6,Rc3,Qe2,Rh3,Qxe5,Bxg2,Nxg2,f4,Bb5', 'f3,Qg3,Rxg3,hxg3,fxg2', 'https://lichess.org/training/PEpix');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PeQ1A', 'Blitz', 'alsoft75', 1614, 'Josef98', 1590, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,c3,O-O,d3,d5,exd5,Nxd5,d4,exd4,cxd4,Bb6,Nc3,Nf6,Be3,Bg4,d5,Ne5,Be2,Re8,h3,Bh5,Bxb6,axb6,Nxe5,Rxe5,g4,Bg6,Bf3,Ra5,d6,cxd6,Bxb7,Be4,Bxe4,Nxe4,Nxe4,Rxe4,a3,Qh4,Qf3,Ree5,Rad1,h5,b4,hxg4,hxg4,Rab5,Rxd6,Rg5,Rd8+,Kh7,Qe4+,g6,Rd4,Rbe5,Qf3,f5,Kg2,Rxg4+,Rxg4,fxg4,Qg3,Qg5,Rh1+,Kg7,Qc3,Qf6,Qc7+,Kf8,Qc8+,Kg7,Qh8+,Kf7,Qxf6+,Kxf6,Ra1,Kf5,Kg3,Re4,Ra2,b5,f3,gxf3,Kxf3,Rf4+,Kg3,g5,Rc2,Rc4,Rf2+,Kg6,Rf3,Kh5,Rd3,Rg4+,Kf3,Kh4,Rd8,Rg3+,Kf2,Rxa3,Rd5,g4,Rxb5,g3+,Kg2,Ra2+,Kg1,g2,Rb8,Kg3,Rg8+,Kf3,b5', 'Ra1+,Kh2,Rh1#', 'https://lichess.org/training/PeQ1A');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 27;
-    }
-
-}
\ No newline at end of file
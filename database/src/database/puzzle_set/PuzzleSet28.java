@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet28 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PeqNI', 'Rapid', 'Wolodua', 1798, 'luca-antonelli', 1754, 'e4,c5,Bc4,Nf6,Nc3,d6,Nf3,e6,d3,a6,Bg5,Be7,e5,dxe5,Nxe5,O-O,h3,Nbd7,Nxd7,Bxd7,Qf3,Bc6,Qg3,b5,Bb3,Re8,O-O,Nd5,Nxd5,Bxd5,c4,Bxg5,cxd5,exd5,f4,Bf6,Rab1,Bd4+,Kh1,c4,dxc4,dxc4,Bc2,Qf6,f5,Re3,Qf4,Rae8,a4,Qe5,Qg5,b4,Qh4,a5,f6,g6,Qh6,Qxf6,Rxf6,Bxf6,Rf1,Bd4,Qf4,Re1,Rxe1', 'Rxe1+,Kh2,Be5,Qxe5,Rxe5', 'https://lichess.org/training/PeqNI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pEqqE', 'Rapid', 'AleksandrNekhoroshik', 1653, 'mariolo94', 1651, 'b4,e5,b5,c6,a4,d5,Bb2,Bd6,e3,Nf6,c4,cxb5,axb5,a6,Nf3,Be6,cxd5,Bxd5,Bxe5', 'Bxf3,Qxf3,Bxe5', 'https://lichess.org/training/pEqqE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PeQRb', 'Rapid', 'AndreiGroshev', 2085, 'Mr2001Abhishek', 1971, 'd4,d5,e4,c6,h3,dxe4,Nc3,Nf6,Bg5,Bf5,f3,exf3,Qxf3,Bg6,O-O-O,e6,h4,h6,Bf4,Bd6,g4,Qc7,Bxd6,Qxd6,Nb5,cxb5,Qxb7,Qc6', 'Bxb5,O-O,Bxc6', 'https://lichess.org/training/PeQRb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pequJ', 'Rapid', 'XLords', 1657, 'autiartist', 1685, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,h3,Bb4,Bd2,Ba5,a3,Bb6,Be3,Nd7,g4,Be4,Nxe4,dxe4,Bg2,Ne7,Bxe4,Nd5,Qd3,Qc7,Bxh7,c5,Be4,c4,Qe2,c3,Bxd5,cxb2,Rb1,exd5,Rxb2', 'Qc3+,Kf1,Qxb2', 'https://lichess.org/training/pequJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pErXY', 'Rapid', 'UmutMetin', 1848, 'vasilchesss', 1850, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bd3,c5,Nb5,Nc6,O-O,a6,N5c3,Be7,Nd5,Nxd5,exd5,Ne5,Nc3,Nxd3,Qxd3,O-O,Be3,f5,f4,Bf6,Rf3,Bd7,Rh3,g5,fxg5,Bxg5', 'Bxg5,Qxg5,Rg3', 'https://lichess.org/training/pErXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pESsD', 'Rapid', 'TheSethLord', 1816, 'thomas4231', 1788, 'e4,e6,d4,d5,Nc3,Bb4,a3,Bxc3+,bxc3,Ne7,e5,c5,Qg4,Ng6,Nf3,cxd4,cxd4,Nc6,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/pESsD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pETkt', 'Blitz', 'bad_fallen', 1811, 'gambitd1', 2408, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,e6,Na3,cxd4,Nb5,Qd8,Nbxd4,Nxd4,Nxd4,Bxe2,Qxe2,Nf6,Bg5,Be7,O-O-O,Qb6,h4,O-O,h5,Qa5,Bxf6,Bxf6,Kb1,Rfd8,Nb3,Qb6,Qf3,Be7,g4,a5,g5,a4,Nd4,a3,b3,Bxg5,Rhg1,Bh6,Qf6,Kf8', 'Nxe6+,Qxe6,Rxd8+,Rxd8,Qxd8+', 'https://lichess.org/training/pETkt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('petoB', 'Rapid', 'aleks_gtw', 1664, 'Head-Hunter-TR', 1815, 'e4,b6,d4,Bb7,Bd3,e6,Bd2,Qf6,Bc3,Qg6,Qf3,f5,Nd2,Nf6,Qg3,Ng4,exf5,exf5,O-O-O,Bd6,Qh4,Bxg2,Re1+,Kf8,Qd8+,Kf7,Re7+,Bxe7,Qxh8,Bxh1,f3,Nxh2,Nh3,Nxf3', 'Bc4+,d5,Bxd5+', 'https://lichess.org/training/petoB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('petrR', 'Classical', 'Centro23', 1764, 'Macfredddy', 1802, 'f4,d5,Nf3,Nf6,b3,Nc6,Bb2,Bg4,e3,e6,Be2,Be7,O-O,Qd6,Nd4,Bxe2,Qxe2,Nxd4,Bxd4,c5,Qb5+,Qc6,Qxc6+,bxc6,Bxf6,Bxf6,c3,O-O,d4,cxd4,exd4,Rac8,Nd2,c5,Nf3,cxd4,cxd4,Rc2,Rf2,Rfc8,Rxc2,Rxc2,a4,Rb2,Ra3,Be7,Ra1,Rxb3,Rc1,h6,Rc7,Rb1+,Kf2,Rb2+,Kg3,Bb4,Rxa7,Rb3,a5,f5,a6', 'Be1+,Kh3,g5,fxg5,hxg5,g4,Rxf3+', 'https://lichess.org/training/petrR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PEu2l', 'Rapid', 'alexei_2911', 1829, 'elektropionir', 1831, 'd4,d5,Nc3,c5,Nf3,e6,Bf4,Nc6,e3,Nf6,Be2,Be7,Ne5,Bd7,Qd2,O-O,h4,Bd6,g4,cxd4,exd4,Ne4,Nxe4,dxe4,Nxc6,Bxc6,Bxd6,Qxd6,O-O-O,f5,Rhg1,f4,g5,f3,Bc4,Rac8,h5,Bd5,Bxd5,Qxd5,b3,a5,g6,h6,Rh1,a4,Kb2,Qd6,Ra1,a3+,Kb1,e5,d5,Rc5,c4,b5,Rc1,bxc4,bxc4,Qb6+,Kc2,Qb2+,Kd1,Rd8,Ke1,Rdc8,Rcb1,Qxd2+,Kxd2,Rxc4,Rb3,Ra8,Rc1,Rd4+,Ke1,Rxd5,Rcc3,Rad8,Rc1,Kf8,Rxa3,Ke7,Ra7+,Kf6,a4,Kg5,Rxg7,Kxh5,Ra1,Ra5,Rc7,Kxg6,Rc6+,Kg5,Rcc1,h5,Kf1,Kg4,Kg1,Kh3,Kh1,Kg4,Rg1+,Kf4,Rg3,Rd4,Rh3,Kg4,Rg3+,Kh4,Rag1,Raxa4', 'Kh2,e3,Rh3#', 'https://lichess.org/training/PEu2l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('peUst', 'Rapid', 'Blindarrow', 1710, 'savage9595', 1704, 'e4,d5,f4,dxe4,Bc4,Nf6,d3,Nc6,Nc3,Bg4,Qd2,Nd4,dxe4,c5,Nd5,e6,Nxf6+,Qxf6,Qc3,Bd6,e5,Bxe5,fxe5,Qxe5+,Be3,f6,h3,Bh5,g4,Bg6,O-O-O,b5,Bxd4,cxd4,Qxd4,Qxd4', 'Bxb5+,Kf7,Rxd4', 'https://lichess.org/training/peUst');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pEV5S', 'Rapid', 'Ksilem', 1671, 'CapitanCaveman', 1719, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bh4,g5,Bg3,Ne4,Qc2,Nxg3,hxg3,Qf6,Nf3,Nc6,e3,b6,a3,Be7,b4,Bb7,b5,Na5,Ne5,d6,Ng4,Qg7,a4,f5,Nh2,O-O-O,Rc1,Be4,Bd3,Bxg2,Rg1,Bb7,d5,exd5,Bxf5+,Kb8,Nxd5,Rhe8,Nf3,Bf6,g4,Bc8,Nxf6,Qxf6,Nd4', 'Qxd4', 'https://lichess.org/training/pEV5S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pEvex', 'Blitz', 'ospina1989', 1718, 'Perfumadito522', 1620, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Bg5,O-O,O-O,d6,h3,h6,Bh4,Nd4,c3,Nxf3+,Qxf3,Be6,Nd2,Bxc4,Nxc4,c6,Rad1,b5,Ne3,Bxe3,Qxe3,d5,Kh1,d4,cxd4,Qxd4,Qg3,Nh5,Qg4,Nf4,g3,Ng6,Qe2,Nxh4,gxh4,Qd8,Qg4,Qf6,f4,exf4,Rxf4,Qe6,Qh5,Rad8,Rg1,Kh7,Qf3,Qe7,Rfg4,g6,h5,g5,h4,f6,Qf5+,Kh8,Qg6,Qg7,Qf5,Rxd3,e5,fxe5,Qxd3,Qf6,hxg5,hxg5,Rxg5,Qf4,Rg7', 'Qh4+,Kg2,Rf2#', 'https://lichess.org/training/pEvex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PEvJJ', 'Blitz', 'AndreiDerjavin', 1717, 'Est357', 1701, 'e4,e6,d4,d5,exd5,exd5,Nc3,Bd6,Nf3,c6,Bg5,Nf6,Bd3,O-O,O-O,Qc7,Bxf6,gxf6,h3,Kh8,Qd2,Rg8,Qh6,Rg7,Qxf6,Bxh3,Bxh7,Bxg2,Rfe1,Bxf3+,Kf1,Bg2+,Ke2,Nd7,Qh6,Re8+,Kd3,Rxe1,Rxe1,Rxh7', 'Re8+,Bf8,Rxf8+,Nxf8,Qxf8#', 'https://lichess.org/training/PEvJJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PeVkJ', 'Blitz', 'Checkmate101', 2069, 'mirmed', 1845, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Be7,c3,O-O,Qc2,b6,Bg5,h6,h4,Bb7,Nxf6+,Nxf6,O-O-O,Qd5,Kb1,c5,Bxf6,Bxf6,Ng5,cxd4,Bh7+,Kh8,Bg8,d3,Rxd3,Qxg2,Rdh3,g6,Bxf7,Bxg5,hxg5,Be4', 'Rxh6+,Kg7,Rh7#', 'https://lichess.org/training/PeVkJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PEVLA', 'Blitz', 'ChessNoob001', 2211, 'GeMainer_Zug', 2229, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Nbd7,O-O-O,Qc7,g4,b5,Bxf6,Nxf6,g5,Nd7,f5,Ne5,Qg3,b4,fxe6,bxc3,exf7+,Nxf7,g6,cxb2+,Kb1,hxg6,Qxg6,Bf6,e5,dxe5,Bg2,Rb8,Bd5,exd4,Rdf1,Rh6,Qd3,Bh3,Rxf6,gxf6,Rg1,Kf8,Qxa6,Bf5,Qa3+,Nd6', 'Rg8+,Ke7,Rg7+,Kd8,Rxc7', 'https://lichess.org/training/PEVLA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PeVMP', 'Rapid', 'gabrieldain', 1791, 'Leonard2011', 1786, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,Be7,Bxf6,Bxf6,e4,d6,exf5,exf5,Nge2,O-O,g3,Nc6,Bg2,Qe8,O-O,Bd7,Nd5,Rc8,Nxf6+,Rxf6,Qd2,Qf7,Rac1,h5,h4,Rg6,d5,Ne5,Nf4,Rg4,Rfe1,b5,b3,c5,Kh2,bxc4,bxc4,g5,Ne6,Bxe6,dxe6,Qc7,Rxe5,dxe5,Bf3,Rd8,Bd5,Kg7,f3,gxh4,fxg4,hxg3+,Kxg3,h4+,Kxh4,Rh8+,Kg3', 'e4+,Qf4,Rh3+,Kxh3,Qxf4', 'https://lichess.org/training/PeVMP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('peVNe', 'Rapid', 'NIKOFORT', 1936, 'levski27', 1931, 'e4,e5,f4,d5,exd5,exf4,Nf3,Bg4,c4,Bxf3,Qxf3,Qh4+,Kd1,Bd6,d4,b6,Bd3,Nf6,Re1+,Kd7,Bf5+,Kd8,Nc3,Re8,Ne4,Nxe4,Rxe4,Rxe4,Bxe4,Nd7,Bd2,Nf6,Bd3,Ng4,h3,Nf2+,Kc2,Nxd3,Kxd3,Kd7,c5,bxc5,dxc5,Bxc5,Bxf4,Re8,Bd2,Qd4+,Kc2,Qc4+,Kd1,Bd6,Rc1,Qa4+,b3,Qxa2,Qf5+,Kd8,Qg5+,Be7,Qg3,Bd6,Qc3,f6', 'Ra1,Bb4,Rxa2,Bxc3,Bxc3', 'https://lichess.org/training/peVNe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PewDV', 'Classical', 'Flonk', 1622, 'CitricAcid13', 1724, 'e4,c5,c3,e6,Nf3,d5,d4,Nc6,e5,Bd7,Be2,Nge7,Ng5,cxd4,Bh5,Nxe5,O-O,N7g6,cxd4,Nc6,Re1,Be7,Nxf7,Kxf7,Qf3+,Bf6,Nc3,Rf8,Nxd5,exd5', 'Qxd5+,Be6,Qxe6#', 'https://lichess.org/training/PewDV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pewmH', 'Blitz', 'Habichuela', 2505, 'IM www68', 2532, 'e4,e6,d4,d5,Nc3,Bb4,Ne2,Ne7,a3,Bxc3+,Nxc3,b6,g3,Ba6,Bxa6,Nxa6,Qd3,Nb8,O-O,Nbc6,Bg5,f6,Be3,Qd7,Rad1,Kf7,f4,f5,exf5,exf5,Nb1,Nc8,Nd2,Nd6,Nf3,Ne4,Ne5+,Nxe5,fxe5,h5,Bg5,g6,Qe3,c6,c4,Kg8,cxd5,Qxd5,Bf6,Rh7,Rc1,Re8,Bh4,Rg7,Rce1,g5,Rxf5,gxh4,Qxe4,hxg3,Qxd5+,cxd5,Rxh5,gxh2+,Kxh2,Re6,Rg1,Rc6,Rhg5', 'Rh6+,Kg2,Rxg5+', 'https://lichess.org/training/pewmH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pEwuI', 'Blitz', 'Jonadsz', 1528, 'thomaskrebs01', 1617, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,Be7,Be3,O-O,O-O-O,c5,Qd2,Re8,Bc4,a6,Nd5,Nxd5,Qxd5,Rf8,Rhf1,Rb8,f4,b5,Be2,Bb7,Qd2,Bxe4,f5,Bxg2,Rg1,Be4,Bg5,Bxg5,Rxg5,h6,Rh5,Qf6,Rg1,Bxf5,Rxh6,Qd4,Qg5,g6,Bd3,Bxd3,cxd3,c4', 'Rxg6+,fxg6,Qxg6+,Qg7,Qxg7#', 'https://lichess.org/training/pEwuI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pey1G', 'Blitz', 'zaromaniacc', 1772, 'ibaneztoot', 1703, 'e4,e5,Nc3,Nc6,Nge2,Bb4,a3,Bxc3,Nxc3,Nf6,Bb5,a6,Ba4,b5,Bb3,Nd4,Ba2,O-O,O-O,Bb7,d3,d5,f3,c5,Ne2,dxe4,fxe4,Nxe2+,Qxe2,Qd4+,Kh1,Rfe8,Rxf6,gxf6,Qh5,Qf2,Qxf7+,Kh8,Be3,Qxe3', 'Qxf6#', 'https://lichess.org/training/pey1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PEzdU', 'Rapid', 'NateBrady23', 1854, 'Sodgerelt0907', 1871, 'e4,c5,f4,e5,Nf3,d6,Bc4,Be7,fxe5,dxe5,O-O,Nc6,d3,Nf6,Nc3,O-O,Nd5,Nxd5,Bxd5,Nb4,Bb3,b6,Nxe5', 'Qd4+,Rf2,Qxe5', 'https://lichess.org/training/PEzdU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pezh3', 'Blitz', 'IM MilovanR', 2637, 'FM Burberry', 2581, 'd4,g6,e4,Bg7,Nf3,d6,Nc3,a6,h3,b5,Bd3,Bb7,O-O,Nf6,a3,O-O,Be3,e6,Qe2,Nbd7,Rfd1,e5,dxe5,dxe5,a4,c6,axb5,axb5,Na2,Qe7,c3,Nc5,Bxc5,Qxc5,Nb4,Nh5,g3,Nxg3,Qe3,Qxe3,fxe3,c5,Nd5,Bxd5,exd5,e4,Kg2,exd3,Kxg3,c4,e4,Rfe8,Rxa8,Rxa8,e5,Rd8,d6,f6,Nd4,fxe5,Nxb5,e4,Kf4,Rb8,Nc7,Kf7,Kxe4,Rd8,Kd5,Bf8,Kxc4,Bxd6,Nd5,Rb8,b4,Ke6,Re1+,Kd7,Kxd3,Rf8,Re3,g5,c4,h5,c5,Bf4,Re4,Bg3,b5,Rf3+,Kc4,Bf2,c6+,Kd6,Nb4,Rxh3,Nd5,Rh4,Rxh4,Bxh4', 'c7,Kd7,b6', 'https://lichess.org/training/Pezh3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PF1Bi', 'Rapid', 'Dinxzu', 1909, 'SHARAPOF911', 1854, 'e4,c5,Nc3,e6,Nf3,b6,d4,Nf6,dxc5,bxc5,Bd3,Bb7,Bg5,Be7,O-O,h6,Bh4,d5,exd5,Nxd5,Bxe7,Qxe7,Be4', 'Nxc3,Bxb7,Nxd1', 'https://lichess.org/training/PF1Bi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pF2P1', 'Blitz', 'bezdaila99', 1521, 'gnomeosaurus42', 1532, 'e4,c5,Bc4,e6,Nf3,a6,d3,b5,Bb3,a5,a3,c4,dxc4,bxc4,Bxc4,Bb7,Nc3,Qc7,Bd3,Be7,O-O,Nf6,Be3,O-O,Nd4,Rd8,Ndb5,Qe5,Bd4,Qf4,g3,Qg4,Be2,Qh3,Bf3,Na6,Be3,d5,exd5,exd5,Bb6,Rd7,Nd4,Rb8,Ncb5,Bc8,Bxa5,Bc5,Re1,h6,a4,Rdb7,Nc6,Bg4,Nxb8,Bxf3,Qxf3,Ng4,Re8+,Bf8,Qg2,Qh5,Rae1,g6,Nd6,Kg7,Qxd5', 'Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/pF2P1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pf4hT', 'Blitz', 'tisoy1213', 2174, 'knight_avengers12', 1841, 'e4,d6,d4,e5,d5,f5,Nd2,Nf6,c4,Be7,Bd3,O-O,Ne2,fxe4,Nxe4,Bg4,f3,Nxe4,Bxe4,Bh4+,g3,Bxf3,Bxf3,Rxf3,gxh4', 'Qxh4+,Ng3,Rxg3,hxg3,Qxh1+', 'https://lichess.org/training/Pf4hT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pf7S0', 'Rapid', 'Samgal', 1630, 'bogdanboby86', 1616, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,g6,d4,Bg7,Nf3,h6,O-O,b6,Re1,Qd7,Bb5,c6,Ba4,b5,Bb3,Nf6,Ne5,Qb7,Nxf7,Bg4,f3,Qc7,Nxh8,Bxh8,fxg4,Nbd7,g5,hxg5,Bxg5,O-O-O,Be6,Nh5,Bxd7+,Qxd7,h3,Bxd4+,Kh2,Qd6+,g3', 'Qxg3+,Kh1,Qxh3#', 'https://lichess.org/training/pf7S0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFBED', 'Rapid', 'HelmholtzWatson', 1794, 'Ojogbon', 1858, 'e4,e5,Nf3,Bc5,Nc3,d6,h3,Be6,b3,Ne7,d3,Nbc6,Qe2,Bb4,Bd2,Nd4,Nxd4,exd4,Nd5,Nxd5,exd5,Bxd2+,Kxd2,Qg5+,Kd1,Qxd5,Rg1,O-O,g4,Rfe8,Bg2,Qg5,Bxb7,Rab8,Bc6,Re7,Qe4,Bxb3,Qxd4,Be6,f4,Bxg4+,Rxg4,Qh6,Kd2,g6,Bg2,Rbe8,Kc1', 'Re1+,Kb2,Rb8+,Kc3,Rxa1', 'https://lichess.org/training/pFBED');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pfcqq', 'Rapid', 'damir0712', 1860, 'chessechecker', 2012, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nf3,Be7,h3,b5,a3,Bb7,Bd3,Nbd7,Bg5,Nc5,Bxf6,Bxf6,O-O,O-O,Re1,Rc8,Nh2,Bg5,Nf3,Bf4,Nd5,Bxd5,exd5,f5,Be2,Ne4,Bd3,Nc5,Be2,Qb6,Rf1,Ne4,c3,Bg3,Nd2,Nxf2,Qb3,Nxh3+,Kh1,Qg1+,Rxg1', 'Nf2#', 'https://lichess.org/training/pfcqq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFDPy', 'Blitz', 'Fightclub1995', 1782, 'marmm7', 1733, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,g3,Nbd7,Qb3,Qb6,Bd2,Bd6,Bg2,Qxb3,axb3,O-O,c5,Bc7,Bf4,Bxf4,gxf4,b6,cxb6,Nxb6,Ne5,Bb7,Ra5,Nfd7,Nd3,f6,e3,g5,fxg5,fxg5,Rg1,h6,h4,Rf5,Bh3,Rf3,Bxe6+,Kh7,hxg5,hxg5,Ne4,dxe4,Raxg5,Rf6,Rh1+,Rh6', 'Bf5+,Kh8,Rxh6#', 'https://lichess.org/training/PFDPy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFE4W', 'Rapid', 'yu1138', 1627, 'Ugursicim', 1626, 'e4,e5,Nf3,d5,exd5,e4,Ne5,Qxd5,Qh5,Be6,Nc3,Nf6', 'Nxd5,Nxh5,Nxc7+', 'https://lichess.org/training/pFE4W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFEEU', 'Rapid', 'iv2016', 1611, 'G51', 1777, 'e4,e6,Nf3,d5,Nc3,Nf6,d3,dxe4,dxe4,Qxd1+,Nxd1,Nc6,Bd3,a6,O-O,h6,a3,Be7,b4,O-O,Bb2,b6,Bxf6,Bxf6,Rb1,Bb7,Ne1,Rfd8,f3,Nd4,c3,Nb5,Bxb5,axb5,Nc2,Rd2,Rf2,Rad8,Rxd2,Rxd2,Nce3,Rd3,c4,Bd4,Kf2,bxc4,Ke2,b5,Nc2,Rb3', 'Rxb3,cxb3,Nxd4', 'https://lichess.org/training/pFEEU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFeyJ', 'Blitz', 'dragec97', 1663, 'xfile101', 1657, 'd4,Nf6,e3,b6,h3,Bb7,Nf3,e6,Be2,Be7,O-O,c5,dxc5,Bxc5,c4,d5,cxd5,Nxd5,b3,Qf6,Nd4,O-O,Bb2,Nc6,Nd2,Rad8,Ne4,Qe7,Nxc6,Bxc6,Qc2,Nb4,Qc3,e5,Nxc5,bxc5,Rfc1,Qg5,f3,Na6,Bxa6,Bxf3,Bf1,Be4,Qxe5,Qxe3+,Kh1,f6,Qc3,Rd3,Bxd3', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/PFeyJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfFa3', 'Rapid', 'DoganIvanko', 1870, 'senahidmujic', 2070, 'd4,e6,c4,d5,cxd5,Qxd5,Nc3,Qd8,e4,Nf6,d5,exd5,exd5,Be7,Bg5,O-O,Nge2,Nxd5,Qxd5,Qxd5', 'Nxd5,Bxg5,Nxc7', 'https://lichess.org/training/PfFa3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfFCR', 'Blitz', 'PenguinWife', 1744, 'diverell', 1722, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,f3,O-O,Nxc6,bxc6,Bd2,d5,e5,Nd7,f4,Qh4+,g3,Qe7,Qf3,f6,O-O-O,fxe5', 'Nxd5,Bxd2+,Rxd2,cxd5,Qxd5+,Kh8,Qxa8', 'https://lichess.org/training/PfFCR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pfFvt', 'Rapid', 'lvovich12', 2200, 'MILON-2820', 2211, 'e4,c5,Nc3,Nc6,Nge2,e5,Nd5,d6,d3,f5,g3,Nf6,Bg5,Be7,Nxe7,Nxe7,Bg2,Ng6,O-O,fxe4,dxe4,O-O,h3,h6,Be3,Be6,Nc3,Qd7,Kh2,a6,f4,exf4,gxf4,Nh4,f5,Nxg2,fxe6,Nxe3,exd7,Nxd1,Raxd1,Nxd7,Rxf8+,Rxf8,Rxd6,Ne5,Rd5,Nf3+,Kg3,Ne1,Rd2,Rf3+,Kg4,g6,Rd8+,Kf7,Rd7+,Kf6,Rxb7', 'h5+,Kh4,Ng2#', 'https://lichess.org/training/pfFvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfHBu', 'Blitz', 'bioken', 1959, 'Nar10', 1952, 'e4,e5,Nf3,Nc6,Bb5,g6,d3,d6,Bg5,Be7,Bxe7,Nxe7,Nc3,Bg4,Nd5,O-O,Nf6+,Kg7,Nxg4,f5,exf5,Nxf5,Bxc6,bxc6,Ne3,Nd4,Nxd4,exd4,O-O,dxe3,fxe3,Qe7,Qd2,Rae8,e4,d5,Qc3+,Kg8,exd5,cxd5,Qd4,Qd6,Qxa7,c5,Rxf8+,Rxf8,Re1,d4,Qa5,Qf4,Rd1', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/PfHBu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pfHcA', 'Rapid', 'KceH', 1811, 'f3guy', 1803, 'd4,f6,Nf3,c6,e3,e5,dxe5,fxe5,Nxe5', 'Qa5+,Bd2,Qxe5', 'https://lichess.org/training/pfHcA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pfhns', 'Blitz', 'some_toast', 1580, 'Sharzy', 1593, 'e4,c5,Nc3,e6,f4,Nc6,Nf3,Be7,d4,cxd4,Nxd4,Nf6,Bd3,O-O,Nxc6,bxc6,O-O,Bb7,e5,Nd5,Ne4,f6,Ng3,fxe5,c4,Nxf4,Bxf4,exf4,Ne4,d5,Nf2,Bc5,Kh1,Qb6,Qc2,Ba6,Bxh7+,Kh8,Ng4,Bxc4,Rf3,Bd6,Rh3,Qc7,Bg6+,Kg8,Qc3,e5,Rh8+,Kxh8', 'Qh3+,Kg8,Qh7#', 'https://lichess.org/training/pfhns');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfHq5', 'Rapid', 'sophiejoueuse', 1705, 'marquinhossobralense', 1750, 'e4,Nf6,Nc3,d5,e5,Ne4,d4,Nxc3,bxc3,Bf5,Bd3,Qd7,Nf3,Nc6,O-O,Be4,Re1,Bxd3,Qxd3,g6,Rb1,b6,e6,fxe6,Ng5,Nd8,Qf3,Bg7,Ba3,Rf8,Qh3,h6,Nxe6,Nxe6,Rxe6,Rf7,Rbe1,O-O-O,Bxe7,Rg8,Bb4,a5,Ba3,Kb7,Qe3,Bf8,f4,Bxa3,Qf3,g5,f5,Rgf8,c4,Rxf5,Qg4,Rf4', 'Rxb6+,Kc8,Rb8+,Kxb8,Qxd7', 'https://lichess.org/training/PfHq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFHWB', 'Classical', 'forge82', 2020, 'Timurka666', 2118, 'd4,Nf6,Bg5,h6,Bxf6,exf6,e3,d5,Ne2,Bd6,Nd2,O-O,g3,Bg4,Bg2,c6,O-O,Qd7,c4,Bh3,cxd5,Bxg2,Kxg2,cxd5,Rc1,Nc6,Nb3,b6,Qd3,Nb4,Qb1,Rfc8,a3,Nc6,Nc3,Ne7,Nd2,Rc7,Qa2,Qe6,Nb5,Rxc1,Rxc1,a6,Nc3,Rc8,Nb3,h5,Ne2,h4,Qb1,hxg3,hxg3,Qg4,Rxc8+,Qxc8,Qd3,Ng6,Nc3,Qg4,Nxd5,Bxg3,fxg3,Nh4+,Kf2,Qf3+,Ke1,Ng2+,Kd2,Qxd5,Nc1,Qf3,Ne2,Qf2,d5,Qe1+,Kc2,Qa5,d6', 'Ne1+,Kd1,Nxd3', 'https://lichess.org/training/pFHWB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFiUu', 'Rapid', 'gheass', 1645, 'fermilo', 1621, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,g3,Bg4,Bg2,Nc6,O-O,O-O-O,Re1,f5,h3,Nd4,Qc4', 'Nxf3+,Bxf3,Bxf3', 'https://lichess.org/training/PFiUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFjVP', 'Rapid', 'HAI52', 1634, 'rpg_rubin', 1661, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nc5,Bg5,Qxe2+,Bxe2,Be6,Nc3,f6,Be3,Nbd7,O-O-O,O-O-O,Rhe1,Ne5,d4,Nxf3,Bxf3,Nd7,d5,Bf7,Bg4,Kb8,Nb5,b6,Bf4,h5,Bh3,g5,Bxd7,Rxd7,Be3,Bh6,c4,f5,Bd4,g4+,Kb1,Rg8,g3,Bg6,Ka1,f4,Re6,fxg3,fxg3,Rgg7,Rde1,Bg5,Bxg7,Rxg7,Nd4,Bd3,Re8+,Kb7,Ne6,Rg6,Nxg5,Rxg5,b3,a5,Kb2,a4,Kc3,Bh7,b4,b5,c5,Rxd5,cxd6,Rxd6,R8e5,Rd3+,Kb2,Rd2+,Kc3,Rxh2,Rxb5+,Kc6,Rc5+,Kb6,Re6+,Kb7,a3,Rc2+,Kd4,Rd2+,Ke3,Rd3+,Kf4,Rxa3,Rb5+,Kc8,Rh6,Bd3,Rh8+,Kd7,Rd5+,Kc6,Rc5+,Kb6,Rh6+,Kb7,Rhxh5,Be2,b5,Rf3+,Kxg4,a3,Kh4,a2,Rc1,Bd3,Kg4,Rf2,Ra1', 'Be2+,Kg5,Bxh5', 'https://lichess.org/training/PFjVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFk9x', 'Rapid', 'Mehmet_C', 1777, 'muakyuc', 1751, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,d4,Nf6,e4,e6,Bg5,Be7,f4,h6,Bxf6,Bxf6,e5,Be7,Nf3,f6,Bd3,O-O,O-O,Nc6,Qb3,Nxd4,Nxd4,Qxd4+,Kh1,Qb6,Qxb6,axb6,Nb5,Bd8,Rac1,c6,Nd6,fxe5,fxe5,Bc7', 'Bh7+,Kxh7,Rxf8', 'https://lichess.org/training/PFk9x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pfKAY', 'Rapid', 'DRK1410', 1641, 'Erbol_Sadvokasov', 1614, 'e4,e6,d4,d5,e5,c5,Nf3,Qa5+,c3,Nc6,Bd2,Qb6,Qc2,cxd4,cxd4,Nxd4,Nxd4,Qxd4,f4,Bb4', 'Qa4+,Bd7,Qxb4,Qxb4,Bxb4', 'https://lichess.org/training/pfKAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFKR8', 'Rapid', 'luismi91', 1982, 'SKORPION281990', 2138, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,Nc3,Be7,O-O,O-O,Bg5,Be6,Bxe6,fxe6,e5,Nd7,Bxe7,Qxe7,exd6,cxd6,Rad1,d5,Nxd5,exd5,Qxd5+,Rf7,Rfe1,Qf6,f3,Nb6,Qb3,Rd8,Rxd8+,Qxd8,c3,Qf8,Qe6,Kh8,c4,h6,h3,Rc7,b3,Qc5+,Kh2,Qf2,Re2,Qd4,Qg6,Qf4+', 'g3,Qf7,Re8+,Qxe8,Qxe8+', 'https://lichess.org/training/PFKR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFKTC', 'Rapid', 'bscotto', 1779, 'StudyChess12345', 1773, 'e4,c5,f4,Nc6,Nf3,e6,Nc3,d6,d3,Nf6,e5,dxe5,fxe5,Nd7,Bf4,Be7,Nb5,O-O,Be2,Qb6,d4,cxd4,Nbxd4,Nxd4,Qxd4,Bc5,Qc3', 'Bb4,Bd2,Bxc3', 'https://lichess.org/training/PFKTC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pflhP', 'Rapid', 'aztr', 1699, 'victor0403', 1655, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,Nxd4,Nxd4,Qxd4,Qe7,Nc3,Nf6,O-O,d6,h3,Be6,Bb3,Qd7,f4,Bxh3,gxh3,Qxh3,Qf2,b6,Nd5,O-O-O,Be3,Nxe4,Qf3,Qf5,Bd4,Nd2,Qc3,Qg4+,Kf2', 'Ne4+,Ke1,Nxc3', 'https://lichess.org/training/pflhP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfMIB', 'Classical', 'MITa_m', 1758, 'Nax_2018', 1748, 'd4,d5,Bf4,Nf6,e3,Nc6,Nf3,Nh5,Ne5,Nxf4,Nxc6,bxc6,exf4,Bf5,c4,e6,Nc3,Bb4,cxd5,cxd5', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/PfMIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfMmM', 'Rapid', 'RONIEL', 2032, 'nofalthaleb', 2327, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,e6,Qg4,Nf6,Qg3,Qd8,O-O-O,Nd5,Ne4,Nb4,Bxb4,Bxb4,Qxg7,Rf8,Nf3,Be7,Bc4,h6,Qxh6,Rg8,Qh7,Rf8,Ne5,a5,f4,a4,f5,Bg5+,Kb1,Bf6,fxe6,Bxe6,Bxe6,fxe6,Ng6,Be7,Nxf8,Bxf8,Rhf1,Qe7,Nf6+,Kd8,Qxe7+,Bxe7,g4,a3,b3,Nd7,Nxd7,Kxd7,Rf7,Rh8,Rh1,Ke8,Rg7,Kf8,Rg6', 'Kf7,Rxe6,Kxe6', 'https://lichess.org/training/PfMmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfmNY', 'Classical', 'p_implies_q', 1933, 'Shahab68', 1949, 'Nf3,Nf6,c4,Nc6,d4,d5,g3,dxc4,Bg2,Rb8,Nc3,e6,O-O,Be7,Qa4,O-O,Qxc4,Bd6,e4,e5,Rd1,Qe8,d5,Ne7,Be3,b6,Nb5,Qd7,Nxd6,cxd6,Rac1,Bb7,Qb4,Ng6,Ne1,Rfc8,Nd3,Ne8,f4,Nc7,fxe5,dxe5,Qd2,Ne8,Nb4,Nd6,b3,f6,Rxc8+,Rxc8,Rc1,Kf7,Rxc8,Qxc8,Qc2,Qxc2,Nxc2,f5,exf5,Nxf5,Kf2,Nxe3,Kxe3,Kf6,Nb4,Ne7,Nc6,a6', 'Nxe7,Kxe7,d6+,Kxd6,Bxb7', 'https://lichess.org/training/PfmNY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFNRm', 'Rapid', 'alba2008', 1603, 'Leyre_Roldan', 1779, 'e4,e5,f4,Nc6,Nf3,Bd6,Bc4,Nf6,d3,O-O,Nc3,Bc5,f5,Ng4,Bg5,Qe8,Qd2,Nf2,O-O', 'Nxe4+,Kh1,Nxd2', 'https://lichess.org/training/pFNRm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFO4a', 'Classical', 'Ninjaw-7', 1706, 'nonsons_E-B_89', 1735, 'e4,g6,d4,Bg7,e5,e6,f4,h6,Nf3,Ne7,Bd3,d6,b3,Nd5,O-O,a6,c4,Nb4,Be4,d5,cxd5,Nxd5,Bb2,O-O,Qd2,b6,Nc3,Bb7,Nxd5,Bxd5,Bxd5,Qxd5,Rac1,c6,Rc2,Rc8,Rfc1,a5,h3,Na6,Ba1,Ra7,Rc4,Rac7,R1c3,b5,Rc5,Nxc5,Rxc5,Qe4,Qxa5,Qb1+,Qe1,Qxa2,b4,Bf8,Rc1,Be7,Bc3,Ra8', 'Ra1,Qxa1,Bxa1', 'https://lichess.org/training/PFO4a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFpBV', 'Rapid', 'ishaan_vasishtha2006', 2086, 'kidkasparov123', 2105, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bg5,d6,Qd2,O-O,O-O-O,Re8,f4,Bg4,Be2,Bxe2,Qxe2,h6,Bh4,Bb4,Qd3,Bxc3,bxc3,Rb8,e5,dxe5,Qxd8,Rbxd8,Rxd8,Rxd8,fxe5,g5,exf6,gxh4,g3,hxg3,Rg1,Rd6,Rxg3+,Kh8,Rf3,Kh7,Rf5,Kg6,Ra5,Rxf6,Rxa7,Rf2,Rxc7,Rxh2,Rxc6+,f6,a4,Rh5,Ra6,Rc5,Kb2,h5,a5,h4,Ra8,h3,a6,h2,a7,h1=Q,Rg8+,Kf5,a8=Q', 'Rb5+,Ka2,Qb1+,Ka3,Qa1#', 'https://lichess.org/training/pFpBV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFpDA', 'Rapid', 'Billybob2', 2048, 'zerozerozero', 2224, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e4,d6,d4,O-O,Be2,e5,Be3,Nc6,d5,Ne7,Nd2,c5,dxc6,bxc6,O-O,Be6,b3,d5,cxd5,cxd5,exd5,Nfxd5,Nxd5,Nxd5,Bc5,Re8,Rc1,Qh4,Bf3,Red8,g3,Qh6,Qc2,Rac8,a3,Nb4,axb4,Rxd2,Qe4,Bd5,Be3,Rxc1,Rxc1,g5,Rc8+,Bf8,Qf5,Be6,Qxe5,Bxc8,Bxd2,Qg7,Qxg5,Qxg5,Bxg5,Bxb4,Be3,Be6,Bd1,Kg7,Bxa7,Kf6,f4,Kf5,Kf2,Ke4,Ke2', 'Bg4+,Kf1,Bxd1', 'https://lichess.org/training/pFpDA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFpKv', 'Rapid', 'FranzBrandt', 1703, 'fguido87', 1694, 'd4,Nf6,Nf3,Nc6,Bg5,d5,e3,e6,Nbd2,h6,Bxf6,Qxf6,c3,Bd6,Bd3,e5,dxe5,Bxe5,Nxe5,Nxe5,Nf3,Bg4,Qa4+,c6', 'Nxe5,Qxe5,Qxg4', 'https://lichess.org/training/PFpKv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pfqMS', 'Blitz', 'giannici', 1551, 'Krunal', 1584, 'e4,e5,Bc4,Bc5,Nc3,Nf6,Nge2,c6,O-O,d5,exd5,cxd5,Bb5+,Nbd7,Ng3,O-O,d3,a6,Ba4,b5,Bb3,d4,Nce4,Nxe4,Nxe4,Be7,f4,Bb7,fxe5,Nxe5,Qh5,Bxe4,dxe4,Bf6,Bf4,Rc8,Bxe5,Bxe5,Rxf7,Rxf7,Qxf7+,Kh8,Rf1,Bf6,Qb7,Ra8,Qd5,Qxd5,exd5,Rd8,Kf2,Kg8,Kg3,Kf8,Kg4,Ke7,Kf5,Kd6,g4,a5,g5,Be5,Re1,Bxh2,Re6+,Kc5', 'Rc6+,Kb4,a3#', 'https://lichess.org/training/pfqMS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFr4K', 'Rapid', 'yoyomaeatsbananas', 1844, 'illini', 1818, 'd4,b6,e4,Bb7,Nc3,e6,Bf4,c6,Nf3,d5,e5,h6,Be2,a6,O-O,c5,dxc5,Bxc5,Na4,Be7,Be3,b5,Nc3,f6,Bd3,Nd7,exf6,Bxf6,Rb1,Bxc3,bxc3,Ngf6,Re1,O-O,Bd4,Re8,Bg6,Re7,Qd3,Qc7,Re2,e5,Nxe5', 'Nxe5,Bxe5,Rxe5', 'https://lichess.org/training/PFr4K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pfrPp', 'Classical', 'Sasindran', 1657, 'VinnyBagOfDonuts', 1616, 'd4,Nf6,Nf3,g6,Bg5,Bg7,e3,O-O,Nc3,d6,Bd3,a6,O-O,b5,Ne4,h6,Bh4,Bf5,Ng3,Bxd3,Qxd3,g5,Bxg5,hxg5,Nxg5,Nbd7,Nh5,e5,dxe5,Nxe5', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/pfrPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFRsq', 'Rapid', 'Aboalnaga', 2116, 'Ivanu', 2196, 'c4,e5,Nc3,Nf6,Nf3,Nc6,g3,Bc5,e3,d6,Bg2,Bg4,h3,Bh5,g4,Bg6,d4,exd4,exd4,Bb6,O-O,O-O,Bg5,h6,Bh4,Bh7,Nd5,g5,Nxg5,Nxd5,Nf3,Nf6,Qd2,Kg7,g5,Ne4,gxh6+,Kh8,Bxd8,Nxd2,Bf6+,Kg8,Nxd2,Nxd4,Bxb7,Rab8,Be4,Ne2+,Kh2,Rfe8,Bf3,Nf4,Rg1+,Bg6,Ne4,Re6,Bg7', 'Bxe4,Rg4,Bxf3', 'https://lichess.org/training/PFRsq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfSAH', 'Blitz', 'IM abrakadabra02', 2689, 'FM EleKtRoMaGnIt', 2743, 'e4,c6,Nf3,d5,d3,g6,e5,Bg7,d4,c5,c3,Nc6,Bb5,a6,Bxc6+,bxc6,dxc5,a5,O-O,Bg4,Re1,Qc7,Bf4,e6,Nbd2,Rb8,b3,Qa7,Be3,Bxe5,h3,Bxf3,Nxf3,Bg7,Bd4,Kf8,Bxg7+,Kxg7,Qd4+,Nf6,Ne5,Rhc8,Re3,Qe7,Rf3,Kg8,Nxg6,hxg6,Rxf6,e5,Qh4,Qxc5,Rf3,Re8,Rd1,Re6,Qg3,a4,b4,Qc4,Re1,Rbe8,Rfe3,e4,h4,Qxa2,h5,Qb2,Qh4,a3,hxg6,Rxg6,Rh3,Kf8,Qf4,Kg7,Rh7+,Kxh7,Qxf7+,Rg7', 'Qh5+,Kg8,Qxe8+', 'https://lichess.org/training/PfSAH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfsF2', 'Rapid', 'sparrow', 1743, 'Soma17', 1716, 'e4,e6,d4,c5,c4,cxd4,Qxd4,Nc6,Qd1,Bb4+,Bd2,Nf6,f3,Bxd2+,Qxd2,Qb6,Ne2,h6,Nbc3,Nh7,Nb5,a6,Nd6+,Ke7,a3,Nf6,Rd1,Qa5,Nc3,Qc5,f4,Ng4,Nxc8+,Raxc8', 'Qxd7+,Kf6,e5+', 'https://lichess.org/training/PfsF2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFSMd', 'Bullet', 'Seazarkings47', 1929, 'NobleArteMasaje', 1841, 'e4,c5,Nf3,g6,c3,d5,exd5,Qxd5,d3,Bg7,Be2,Bg4,h3,Bd7,O-O,Nf6,Nbd2,O-O,Nb3,a5,a4,Bc6,Be3,b6,Ne1,Qd6,Bf3,Nd5,d4,Nxe3,fxe3,cxd4,exd4,Ra7,Qc2,Rc8,Qf2,e6,Nd2,Bxf3,Qxf3,Nc6,Ne4,Qd8,Nd3,e5,dxe5,Nxe5,Nxe5,Bxe5,Rad1,Qe7,Rfe1,f5,Nf2,Qf6,Nd3,Bd6,Nf2,Bc5,Kh1,Re7,Qd5+,Kg7,Rxe7+,Qxe7,Nd3,Re8,Nf4,Qe3,Rf1,Re7,Qd1,Qe5,Nd5,Bd6,Kg1,Qh2+,Kf2,Bc5+,Kf3,g5,Nxe7', 'Qf4+,Ke2,Qe3#', 'https://lichess.org/training/PFSMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFTNJ', 'Rapid', 'teqkoi', 1822, 'Pole33', 1817, 'd4,e6,Bf4,d5,Nf3,c5,e3,Qb6,b3,a6,Bd3,Nc6,O-O,Bd7,Re1,cxd4,exd4,Nxd4,Nxd4,Qxd4,Be5,Qb6,c4,dxc4,Bxc4,Rd8,Nc3,Bc6,Qe2,Nh6,Rad1,Rxd1,Rxd1,Nf5,Qd3,Be7,g3,O-O,g4,Rd8,Qe2,Nh4,Rxd8+,Bxd8,Bd3,Nf3+,Kf1,Nxe5,Qxe5,Bf6,Qb8+,Bd8,Be4,Bxe4,Nxe4,g6,Nf6+,Kg7,Ne8+,Kh6', 'Qf4+,Bg5,Qxf7', 'https://lichess.org/training/PFTNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfUit', 'Rapid', 'FrancescoT93', 1775, 'mohamad73', 1873, 'e4,g6,d4,Bg7,e5,e6,Nf3,Ne7,Be3,O-O,c3,c6,Nbd2,b6,Qc2,Ba6,Bxa6,Nxa6,O-O-O,c5,Nb3,cxd4,Bxd4,d6,exd6,Bxd4,Rxd4,Nc6,Rd2,Qd7,Rhd1,Nc5,Nxc5,bxc5,h3,a5,Qe4,f5,Qe3,a4,Qxc5,a3,b3,Rfc8,Ne5,Nxe5,Qxe5,Kf7,c4,Rc6,Kb1,Rac8,g4,Rc5,Qd4,e5,Qd3,fxg4,hxg4,Qxg4,d7,Rd8,Qd6,Qf5+,Ka1,e4,Rd5,Rxd5,Rxd5,Qxf2,Rd2', 'Qe1+,Rd1,Qc3+,Kb1,Qb2#', 'https://lichess.org/training/PfUit');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFuOa', 'Classical', 'leandro762', 1842, 'Fish-Cole', 1874, 'e4,e6,d4,d5,Nd2,c5,Bd3,cxd4,Ngf3,Nc6,O-O,Bc5,exd5,Qxd5,Bc4,Qh5,Ne4,Be7,Ng3,Qg4,Re1,e5,h3,Qd7,Rxe5,Nxe5,Nxe5,Qc7,Bxf7+,Kf8,Qh5,Nf6,Ng6+,Kxf7,Nxh8+,Kg8,Qf7+,Kxh8,Nh5,Nxh5', 'Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/pFuOa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFUYZ', 'Rapid', 'KobacB13', 2000, 'thereturnofpeter', 1740, 'd4,Nf6,Nf3,b6,Nbd2,Bb7,e3,e6,Bd3,d5,c3,Nbd7,O-O,Ne4,Qc2,f5,Ne5,Nxe5,dxe5,Be7,Nxe4,fxe4,Bb5+,c6,Be2,b5,Bg4,Bc8,a4,O-O,f3,Bc5,fxe4,Qb6,Rxf8+,Kxf8,Qf2+,Ke7,b4,Ke8,bxc5,Qd8,axb5,a6,Be2,Ra7,bxc6,Rf7,Qe1,Rc7,Bxa6,Bxa6,Rxa6,dxe4,Ba3,Kf7,Qf1+,Kg6,Ra4,Qd3,Qxd3,exd3,Rd4,Rxc6,Rd6', 'Rxd6,cxd6,d2', 'https://lichess.org/training/pFUYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfVCA', 'Rapid', 'elmendocino', 1908, 'Wysiaty', 1925, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Bb5+,Bd7,Nc3,a6,Bd3,Nf6,O-O,g6,Bg5,Bg7,Qe3,Rc8,Rac1,b5,a3,Bc6,Rfd1,Bb7,Kh1,Nd7,f4,Nf6,h3,Nd7,Be2,Nc5,Bf3,Rc7,e5,Bxf3,Qxf3,Rd7,exd6,Rxd6,Nd5,f6,Bh4,O-O,b4,Ne6,c4,bxc4,Rxc4,Bh6,Re4', 'Rxd5,Rxd5,Qxd5', 'https://lichess.org/training/PfVCA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfVDu', 'Rapid', 'apostrov13', 1772, 'Matatator', 1675, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,d5,Nce7,a4,c6,dxc6,bxc6,Bc4,h6,b4,g6,b5,Bg7,Nc3,Nf6,Ba3,cxb5,Nxb5,O-O,Nxd6,Bc6,Nxe5', 'Qa5+,Qd2,Qxe5', 'https://lichess.org/training/PfVDu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfwIE', 'Rapid', 'Febryfugin', 1614, 'Kobacs', 1651, 'e4,e5,Bc4,Bc5,Nf3,Nc6,d3,h6,Nc3,Nf6,h3,d6,a3,a6,Bd2,O-O,g4,Be6,g5,Bxc4,dxc4,hxg5,Bxg5,Re8,Nd5,Bxf2+,Kxf2', 'Nxe4+,Kf1,Nxg5', 'https://lichess.org/training/PfwIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfWJ3', 'Classical', 'esublime', 1607, 'Ikalinga', 1708, 'c4,c5,Nc3,a6,f4,Nf6,Nf3,Nc6,e4,d6,e5,dxe5,Nxe5,Nd4,d3,Nd7,Ne2,Nxe5,fxe5,Bg4,Qa4+,b5,cxb5,Qd7,Nxd4,cxd4,h3,Be6,Be2,g6,Bf4,Bg7,O-O,O-O,Rac1,axb5,Qc2,Rxa2,Ra1,Rc8,Qd2,Qb7,Bf3,Qa7,Rxa2,Qxa2,Qb4,Qa4,Qxe7,Rc3,Qe8+,Bf8,Bh6', 'Rc8,Qxc8,Bxc8', 'https://lichess.org/training/PfWJ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFWuq', 'Blitz', 'Diomed22', 1943, 'jupeq', 1998, 'd4,d5,Nf3,c5,c3,Nc6,Bf4,Nf6,e3,h6,Nbd2,e6,Bd3,Bd6,Bg3,c4,Bc2,Bb8,b3,cxb3,axb3,Qe7,Qe2,e5,O-O,e4,Ne1,h5,h4,Bg4,f3,Bxg3,fxg4,hxg4,c4,Rxh4,cxd5,Nxd5,Nxe4,Bc7,g3,Rh8,Qxg4,Nxe3,Qxg7,O-O-O,Rxf7,Nxc2,Nxc2,Qxe4,Rxc7+,Kb8,Rxb7+,Ka8,Raxa7+,Nxa7', 'Rxa7+,Kb8,Qc7#', 'https://lichess.org/training/pFWuq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFxBM', 'Rapid', 'useful', 1724, 'Mukulsays', 1757, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Bxf7+,Kf8,Bb3,Bxf2+,Kxf2,d5,Rf1,Kg8,Kg1,h6,Bxd5+,Nxd5,exd5,Qxd5,Nf3,e4,Ne1,Qd4+,Kh1,Kh7,Nc3,Be6,Rf4,Rhf8,Rxf8,Rxf8,Qe2,Bg4,Nf3,exf3,Qe4+,Qxe4,Nxe4,f2,Nxf2,Rxf2,Kg1,Re2,Kf1,Nd4,h3,Bf5,c3,Nc2,Rb1,Re1+,Kf2,Bd3,b4,Re2+,Kf3,Na3,Rb3,Nb5,a4,Nd6,c4,Nxc4,Rxd3,Re1,Rc3,Ne5+,Kf2', 'Rxc1,Rxc1,Nd3+,Kf3,Nxc1', 'https://lichess.org/training/PFxBM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFxir', 'Blitz', 'nibul0', 1600, 'vibert', 1596, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Qe2,a6,Bxd7+,Nxd7,d4,e6,Bf4,Qb6,b3,Bb4+,c3,Bd6,Bxd6,Qxd6,Nbd2,Ngf6,c4,O-O,c5,Qf4,b4,Ne4,Nxe4,dxe4,Nd2,Nf6,O-O,Rfd8,Nb3,Ng4,g3,Qf5,f3,exf3,Rxf3,Qd5,Rd1,Nf6,a3,Rd7,Na5,Rad8,Nb3,h6,Rdd3,Nh7,Rfe3,Ng5,Re5', 'Nh3+,Kf1,Qh1#', 'https://lichess.org/training/PFxir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PfYcW', 'Rapid', 'waggin_tail', 1663, 'Yashwant-jha', 1685, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,Nxd4,Nxd4,exd4,c3,Nf6,Qxd4,Be7,f4,c5,Qd3,O-O,e5,dxe5,fxe5,Qxd3,Bxd3,Nd5,O-O,Bd7,Bc4,Bc6,Nd2,Ne3,Rf2,Nxc4,Nxc4,b5,Na5,Rac8,Nxc6,Rxc6,Be3,c4,Bxa7,Ra8,Bd4,Bc5,Bxc5,Rxc5,e6,fxe6,Re1,Re8,Rfe2,e5,Kf2,Kf7,Kg3,Kf6,Rf1+,Kg5,h4+,Kg6,Kf3', 'Rf8+,Ke3,Rxf1', 'https://lichess.org/training/PfYcW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFyEq', 'Rapid', 'Daksha', 1880, 'animarlin', 1910, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,e6,O-O,Nf6,Ne5,Bxe2,Qxe2,Nbd7,d4,h6,Be3,Bd6,f4,a6,Rad1,Qe7,Bf2,O-O-O,a3,g5,Be3,gxf4,Bxf4,Rdg8,Nd3,h5,Bxd6,Qxd6,Ne5,Rg7,Nxd7,Nxd7,Ne4,Qe7,d5,exd5,Rxd5,Rhg8,Rf2,Kb8,Nc3,Qg5,Rxd7,Qc5,Rd5', 'Rxg2+,Kf1,Rg1#', 'https://lichess.org/training/PFyEq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFYjr', 'Classical', 'SutlejRiver', 1797, 'vek47', 1832, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,O-O,O-O,a6,Bb3,b5,Nbd2,Bb7,h3,d5,Bc2,Qe8,Re1,Rd8,exd5,Nxd5,Nxe5,Nxe5,d4,Bd6,dxe5,Bc5,e6,fxe6,Rf1,Qf7,Qe1,Nf4,Be4,Bxe4,Nxe4,Nd3,Qe2,Nxc1,Raxc1,Bb6,Ng5,Qf4,Nxe6,Bxf2+,Qxf2,Qxc1,Rxc1,Rxf2,Kxf2,Rd2+,Ke3,Rxb2,Nxc7,Rxa2,Kf3,Ra3,Ke4,Kf7,Kd4,Kf6,Rf1+,Kg6,Ne6,a5,Nf4+,Kh6,Nd3,a4,Rf2,g6,Nb4,Rb3,Rf3,a3,Kc5,Rb2,Kxb5', 'a2,Rf1,Rb1', 'https://lichess.org/training/pFYjr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PFYUo', 'Rapid', 'flaerty', 1756, 'belalalali', 1693, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bg5,Qe7,Nc3,Qe5,Bxf6,Qxf6,a3,Bc5,f3,Qh4+,g3,Qf6,Na4,Bd4,c3,Be3,Qe2,Bb6,O-O-O,O-O,Bh3', 'Qh6+,Kb1,Qxh3', 'https://lichess.org/training/PFYUo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFzIt', 'Rapid', 'Brabemachess', 1747, 'juanluisfls', 1714, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Qe7,Qd5,Bxc3+,bxc3,f6,exf6,Nxf6,Qd2,d6,e3,O-O,Bd3,Ne4,Qc2,Nf6,O-O,Ne5,Nxe5,dxe5,Bg5,e4,Bxe4', 'Qxe4,Qxe4,Nxe4', 'https://lichess.org/training/pFzIt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pFzjx', 'Rapid', 'KibetSang', 1665, 'Mastandi', 1690, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Bxc6,Bxc6,d3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nc3,Bd7,Nd5,c6,Nxf6+,Qxf6,c4,O-O,b4,Qe7,a3,f5,d4,fxe4,Nd2,exd4,Re1,e3,fxe3,dxe3,Nf3,Bg4,Qb3,Rae8,c5+,Kh8,cxd6,Qe6,Qxe6,Rxe6,Ng5,Re5,h4,h6,Nh3,Bxh3,gxh3,Rf3,d7,Rd5', 'Rad1,Rxd7,Rxd7', 'https://lichess.org/training/pFzjx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pg0AZ', 'Classical', 'bird73', 1849, 'mohsenjojo74', 1857, 'd4,d5,Nf3,Nf6,e3,e6,Nbd2,a5,a4,b6,Bd3,Ba6,Qe2,c5,c3,c4,Bc2,Bd6,Ne5,O-O,O-O,Qc7,f4,Nc6,Rf3,b5,Qf2,b4,Rh3,b3', 'Bxh7+,Nxh7,Qh4', 'https://lichess.org/training/pg0AZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pg2RJ', 'Rapid', 'seriyg', 1802, 'Aleksandrvk', 1829, 'd4,d5,Nc3,Nf6,Bg5,e6,Nf3,h6,Bh4,c5,e3,c4,b3,cxb3,axb3,g5,Bg3,Bb4,Bb5+,Bd7,Bxd7+,Qxd7,Qd3,Ne4,Ne5,Qe7,O-O,Nxc3,f4,Ne4,fxg5,Nxg5,Bh4,Nh3+,gxh3,Qxh4,Qb5+,Nc6,Nxc6', 'Rg8+,Kh1,Qe4+,Rf3,Qxf3#', 'https://lichess.org/training/pg2RJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pg3Kx', 'Rapid', 'Segeldreund', 1714, 'eyal02', 1716, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Be7,d4,exd4,Nxd4,Nxd4,Qxd4,O-O,O-O,d6,Qd3,Be6,Bxe6,fxe6,Qg3,Nh5,Qg4,g6,Qxe6+,Kh8,Bh6,Rf6,Qd5,c6,Qd4,Bf8,Bg5,Bg7,Bxf6,Bxf6,Qd3,Nf4,Qf3,Be5,Rad1,Qg5,Ne2,Rf8,Ng3', 'Nh3+,gxh3,Rxf3', 'https://lichess.org/training/pg3Kx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pg64H', 'Classical', 'MM1993', 1983, 'Eegalmc2', 2011, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Qb6,Qd2,Qxb2,Rb1,Qa3,Nb5,Qxa2,Rd1,Rb8,Nc7+,Kd8,Nb5,Be7,Qc3,Nb4,Kd2,a6,Na3,cxd4,Nxd4,Nc5,Nxe6+,Bxe6,Bxc5,Rc8', 'Bxe7+,Kxe7,Qxb4+', 'https://lichess.org/training/pg64H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pg7sH', 'Classical', 'Nazghul92', 1634, 'SM_Player', 1723, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c3,c5,Be2,Nc6,O-O,a6,Qb3,b5,a3,c4,Qd1,Nge7,Nh4,h6,Nxf5,Nxf5,Nd2,Be7,Nf3,O-O,b3,a5,Rb1,b4,axb4,axb4,bxc4,bxc3,cxd5,Qxd5,Be3,Ra4,Qxa4,Nxe3,fxe3,Rc8,Bc4,Qe4,Rfe1,Nb4,Bb3,Ra8,Qd7,Bf8,Rbc1,Ra3,Rxc3,Nd3,Re2,Ra1+,Re1,Rxe1+,Nxe1', 'Qxe3+,Kf1,Qxe1#', 'https://lichess.org/training/pg7sH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pG9Pt', 'Blitz', 'Jotacere', 1936, 'KapaTheEmperor', 1938, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,c3,dxc3,O-O,Nf6,Nxc3,Be7,Re1,O-O,Nd5,Nxd5,exd5,Na5,Bf1,b6,Qe2,Bf6,b4,Nb7,Rb1,Bg4,h3,Re8', 'Qxe8+,Qxe8,Rxe8+,Rxe8,hxg4', 'https://lichess.org/training/pG9Pt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PGA89', 'Rapid', 'frigianf', 1673, 'abdallah6666', 1680, 'd4,Nf6,e3,d5,a3,Bg4,Be2,Bxe2,Qxe2,Nc6,Nf3,e6,h3,Bd6,O-O,O-O,b3,e5,c3,Re8,Bb2,exd4,cxd4,a5,Nbd2,Qd7,Rfe1,Ne4,Qd3,Qe6,Qb5,Rab8,Qd3,Nxd2,Qxd2,Qg6,Re2,b6,Rae1,Re4,Qc3,Na7,Nd2,Rh4,e4,Re8,e5,Nb5,Qe3,Bxa3,Bxa3,Nxa3,Nf3,Re4,Qc1,Rxe2,Rxe2,Nb5,Re1,h6,Nh4,Qd3,Qc6,Qc3,Qxe8+,Kh7,Rf1,Nxd4,Qxf7,Ne2+,Kh1,Qxe5,Qf5+,Qxf5,Nxf5,d4,Rd1,c5,Ne7,Nc3,Rd2,Ne4,Re2', 'd3,Rxe4,d2', 'https://lichess.org/training/PGA89');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pGa8c', 'Blitz', 'bokken', 1905, 'Xainis', 1898, 'd4,Nf6,Nf3,g6,Bg5,Bg7,c4,O-O,Nc3,d6,d5,Nbd7,e4,e5,Qd2,a5,Bd3,Nc5,Bc2,Bd7,a4,Qc8,h3,Nh5,Bh6,f5,Bxg7,Nxg7,Qh6,fxe4,Ng5,Rf5,Qxh7+,Kf8,Qh8+,Ke7,Qxg7+,Ke8,Qxg6+,Ke7,Ncxe4,Qf8,Nxc5,Rxf2,Nxd7,Qf4,Qe6+,Kd8,Nf3', 'Qe3+,Kd1,Qe2+,Kc1,Qxc2#', 'https://lichess.org/training/pGa8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pgas4', 'Rapid', 'The_Knight_King_W', 1635, 'lf1907', 1650, 'e4,e6,d3,c5,c4,Nc6,Nf3,d6,Nc3,e5,Be2,Nf6,Bg5,Be7,O-O,a6,h3,O-O,Qd2,Bd7,a3,Nd4,Nxd4,cxd4,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/Pgas4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pgBuh', 'Rapid', 'PacoLigeroMarin', 1832, 'LeClochard', 1810, 'e4,c5,Nf3,e6,d4,d5,Bb5+,Nc6,exd5,exd5,Qe2+,Be7,dxc5,a6,Ba4,b5,cxb6,Qxb6,O-O,Nf6,Ne5,Bb7,Bg5,O-O,Bxf6,Bxf6,Nd7,Qxb2,Nxf6+,Qxf6,Nd2,Nd4,Qd3,a5,Rab1,Ba6,c4,dxc4,Nxc4,Rfd8,Rb6,Qf4,Rxa6,Rxa6,Kh1,Rh6,g3,Qf3+,Qxf3,Nxf3,Kg2,Nxh2,Ne5,Rd5,f4,Rd2+,Kg1,Rxa2,Bb3,Rb2,Bxf7+,Kh8,Bd5,Rf6,Rc1,g6,Rc7,a4,Nf7+,Kg7', 'Ng5+,Kf8,Nxh7+,Ke8,Nxf6+', 'https://lichess.org/training/pgBuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pgc9S', 'Blitz', 'ashabulyamin', 2089, 'ReneSkree', 2093, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Bc4,Nb6,Bb3,d6,Qf3,e6,cxd4,dxe5,dxe5,Nc6,Bf4,Nd4,Qd3,Nxb3,Qxb3,Nd5,Bg3,Bb4+,Nc3,O-O,Ne2,Bd7,O-O,Bxc3,Nxc3,Nxc3,Qxc3,Rc8,Qa3,Qb6,Rfd1,Bc6,h3,Bd5,Rac1,a6,b3,Rxc1,Rxc1,Qd4,Qc5,Qd2,Kh2,Qxa2,Bh4,Qxb3', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/Pgc9S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pGg7W', 'Rapid', 'serdokur', 1728, 'Jensofjamtland', 1750, 'e4,d6,d4,g6,Nc3,Bg7,Bb5+,c6,Ba4,e5,dxe5,Bxe5,Bb3,Be6,Bxe6,fxe6,Nf3,Bxc3+,bxc3,Nf6,Bg5,e5,Nxe5,dxe5', 'Qxd8+,Kxd8,Bxf6+', 'https://lichess.org/training/pGg7W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pgHOG', 'Classical', 'loot', 1802, 'rhonzkie', 1826, 'e4,c5,Nc3,e6,Nge2,Nc6,d4,cxd4,Nxd4,Nf6,Ndb5,d6,Bf4,e5,Bg5,a6,Na3,Be7,Bxf6,Bxf6,Nc4,Be7,Nd5,Be6,c3,Bxd5,Qxd5,O-O,a4,Qc7,a5,Rad8,Nb6,Nb8,Qd2,Rfe8,Nd5,Qc8,Be2,Qe6,Nc7,Qg6,Nxe8,Qxg2,O-O-O', 'Bg5,Rhg1,Bxd2+', 'https://lichess.org/training/pgHOG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pgI5J', 'Rapid', 'Iwillkillyourking', 1787, 'gazozkapagi_2', 1814, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Bxf7+,Kxf7,Ng5+,Ke8,Qf3,Ne5,Qb3,Be7,Nxh7,Nf6,Ng5,Nfg4,Ne6,Bxe6,Qxe6,Qd7,Qd5,c6,Qxd4,Rxh2,Rxh2,Nxh2,Bf4,Nhg4,Nc3,Bf6,O-O-O,Nf7,e5,Ngxe5,Ne4,Qg4,Bxe5,Nxe5,Nxd6+,Ke7,Ne4,Qxg2,Qc5+,Kf7,Nd6+,Kg6,f4,Nf3', 'Qf5+,Kh6,Nf7#', 'https://lichess.org/training/pgI5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PgI5l', 'Classical', 'IM TerryR2', 2213, 'TheRealOwnage', 2098, 'e4,c6,Nf3,d5,exd5,cxd5,Ne5,Nf6,d4,e6,Bd3,Bd6,O-O,Nbd7,Bf4,Qb6,Nxd7,Bxd7,Bxd6,Qxd6,Nd2,a6,a4,O-O,a5,Rae8,Re1,Bc6,c3,Nd7,Qh5,h6,Nf3,f5,Ne5,Nf6,Qh4,Ne4,f3,Ng5,Re3,Rf6,Qf4,Nh3+,gxh3,g5,Qg3,f4,Qf2,fxe3,Qxe3,Re7,Ng4,Rf4,Nxh6+,Kf8,Ng4,Be8,Ne5,Rh4,Kh1,Rg7,Rg1,Qe7,Rg3,Bf7,Kg2,Qd8,b4,Bh5,Be2,Rf4,Nd3,Qf6,Nc5,Re7,Nd3,Rg7,Kh1,Rf7,Ne5,Rg7,Rg1,Bg6,h4,Rxh4,Qxg5', 'Rxh2+,Kxh2,Rh7+,Qh6+,Rxh6+', 'https://lichess.org/training/PgI5l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pGInP', 'Rapid', 'Supercerebraco', 1880, 'BLACKBOURNE', 1718, 'e4,e5,f4,Nc6,Nf3,d6,Bb5,Be6,fxe5,dxe5,Nxe5,Bd7,Nf3,Nf6,Nc3,Bg4,O-O,Bc5+,Kh1,O-O,Bxc6,bxc6,d3,Re8,Bg5,h6,Bh4,g5,Bg3,Nh5,Ne2,f5,h3,Bxf3,gxf3,f4,Be1,Qd7,Kh2,Ng3,Nxg3,fxg3+,Bxg3,Bd6,Bxd6,Qxd6+,Kg2,Qf4,Qe2,h5,Rg1,Kh7,Kf2,Qh2+,Rg2,Qxh3,Rxg5', 'Qh4+,Ke3,Qxg5+', 'https://lichess.org/training/pGInP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pgiyu', 'Rapid', 'Steven4366', 1736, 'LaryAim', 1720, 'd4,Nf6,c4,c5,dxc5,e5,Nf3,Bxc5,Bg5,Be7,Nxe5', 'Qa5+,Nc3,Qxe5', 'https://lichess.org/training/pgiyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PGJIt', 'Rapid', 'Alexlevkov', 1991, 'seben14', 1975, 'd4,e5,dxe5,Bc5,Nf3,Nc6,a3,Nge7,c4,a6,b4,Ba7,Bb2,O-O,e3,Ng6,Bd3,Qe7,Bxg6,fxg6,O-O,d6,exd6,cxd6,Nc3,Bg4,Nd5,Qf7,Nf4,Kh8,Ng5,Qf5,Nf3,Ne5,c5,Bxf3,gxf3,Qg5+,Kh1,Rxf4,Bxe5,dxe5,exf4,Qxf4,Qd5,Rf8,Qxb7,Bb8,Rae1,e4,Qxb8,Qxb8,Rxe4,Rxf3,Rfe1,Qa8', 'Re8+,Rf8+,Rxa8', 'https://lichess.org/training/PGJIt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PGJvi', 'Blitz', 'doctor_of_luv', 2252, 'emmadiogu', 2268, 'e4,d5,exd5,Nf6,c4,c6,d4,cxd5,Nc3,Nc6,Nf3,a6,h3,Bf5,Bd3,Bg6,O-O,e6,Re1,dxc4,Bxc4,Bb4,d5,Bxc3,bxc3,Na5,dxe6,Qxd1,exf7+,Kf8', 'Ba3+,Qd6,Bxd6#', 'https://lichess.org/training/PGJvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PgLZN', 'Classical', 'RhamnusAlaternus', 1900, 'Samuelda123', 1741, 'e4,c5,Nc3,Nc6,Bb5,Nf6,Bxc6,dxc6,d3,e5,f4,Bd6,fxe5,Bxe5,Nf3,Bg4,h3,Bg3+,Kf1,Bh5,Be3,Qb6,Na4,Qc7,Nxc5,O-O,Bf2,Bxf2,Kxf2,Bxf3,Qxf3,Qe5,Na4', 'Qd4+,Qe3,Qxa4', 'https://lichess.org/training/PgLZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pgoG4', 'Rapid', 'AepSaepudin', 1757, 'bor123', 1728, 'd4,d5,f4,e6,Nf3,Nf6,e3,Be7,a3,c5,c3,cxd4,cxd4,b6,Bd3,Bb7,Nc3,a6,b4,b5,O-O,O-O,Ne5,Nbd7,Rf3,Bd6,Rh3,Ne4,Qh5,h6,Bb2,Ndf6,Qf3,Rc8,Ne2,Nd2,Qg3,Nfe4,Bxe4,Nxe4,Qg4,Kh8,Rf1,Nf6,Qg3,Ne4,Qg4,Rc2,Bc1,Qf6,Ng3,Bxe5,fxe5,Qg6', 'Qxg6,fxg6,Rxf8+', 'https://lichess.org/training/pgoG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pgsVk', 'Rapid', 'Puumwe', 1979, 'ChessMasterSeelze', 1976, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Nc6,Nc3,Nf6,Bg5,h6,Bh4,Qa5,Nxc6,bxc6,Qf3,Be7,Bd3,d6,O-O,O-O,e5,dxe5,Qxc6,Rb8,Bxf6,Bxf6,Qe4,g6,Qg4,Kg7,Ne4,Be7,h4,f5,Qg3,fxe4,Bxe4,Rf5,h5,Rg5,Qf3,Bf6,hxg6,Rxb2,Rfd1,Rd2,Rxd2,Qxd2,Rd1,Qf4,Qd3,Be7,Rd2,h5,Re2,h4,Re3,Bc5,Rf3,Qc1+,Kh2,Rf5,Bxf5,exf5,Qd8,Be6', 'Qc7+,Kf6,Qxc5', 'https://lichess.org/training/pgsVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PGSxt', 'Classical', 'Edson1114', 1831, 'Maksim_0', 1754, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qe7,d4,f6,Qh5+,g6,Nxg6,Qxe4+,Be3,Qxg6,Qxg6+,hxg6,Nc3,c5,d5,c4,O-O-O,b5,Rhe1,Bf5,Bf4+,Ne7,Bxc7,Bh6+,Kb1,Ra7', 'd6,Rxc7,dxc7', 'https://lichess.org/training/PGSxt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pgTyx', 'Rapid', 'ErnestoAtilano', 1735, 'schulle', 1617, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,O-O,Nf3,d6,O-O,Nc6,a3,e5,d5,Nb8,Qc2,a5,Ra2', 'Bf5,Qd1,Bxb1', 'https://lichess.org/training/pgTyx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PGuIJ', 'Rapid', 'Gelsonkestering', 1948, 'mrsafari1969', 1973, 'd4,d5,Nf3,Bf5,Bf4,e6,e3,a6,Bd3,Bxd3,cxd3,Bd6,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/PGuIJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PGwJW', 'Rapid', 'Glegane_Marques', 1687, 'Raul_Med', 1692, 'd4,d5,a3,Nc6,b4,a6,c3,Bf5,Nf3,e6,e3,Bd6,Be2,Nf6,O-O,O-O,Nbd2,h6,Nh4,Bh7,Bb2,Ne4,Nxe4,Bxe4,Nf3,Bxf3,Bxf3,Qh4,g3,Qg5,Bc1,Qe7,e4,dxe4,Bxe4,Rab8,d5,exd5,Bxd5,Na7,c4,Rbd8,Re1,Qf6,Rb1,c6,Bb2,Qg6,Be4,f5,Bf3,Bxg3,fxg3,Rxd1,Rexd1,f4,Bg2,fxg3,hxg3,Qxg3,Rd7,Rf2', 'Rxg7+,Qxg7,Bxg7', 'https://lichess.org/training/PGwJW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pgwRT', 'Rapid', 'Hilioz', 1750, 'Salahexe', 1714, 'e4,e6,Bc4,d5,exd5,exd5,Qe2+,Be7,Bb3,Nf6,Qb5+,c6,Qe2,O-O,Nf3,Re8,O-O,Bg4,Qd3,Ne4,Nd4,Bc5,f3,Bxd4+,Qxd4,Bxf3,Rxf3,Ng5,Rf1,Qd6,d3,Ne6,Qg4,g6,Nc3,Qc5+,d4,Nxd4,Kh1,Na6,Na4,Re4,Qd7,Qe7,Qxe7,Rxe7,Bg5,Re5,Bf6,Re4,Bxd4,Rxd4,Nc3,Re8,h3,Rd2,Rae1,Rxe1,Rxe1,Nc5,Ne2,Nxb3,cxb3,Rxb2,Nc3,Rc2,Na4,Rxa2,Rb1,a6,Nc5,b6,Nd7,b5,Nb8,d4,Nxc6,d3,Nb4,Rd2,Nxa6,Re2,Nc5', 'd2,Nd3,Re3,Rd1,Rxd3', 'https://lichess.org/training/pgwRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PGX0L', 'Rapid', 'Ovent', 2116, 'algorhym3', 1962, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,c3,c5,Be3,Nc6,Nd2,Qb6,Ne2,cxd4,cxd4,Nge7,O-O,Nf5,Nb3,Be7,h3,O-O,Rac1,h6,Rc3,Rac8,a3,Rc7,Rfc1,Rfc8,Nc5,Bxc5,Rxc5,Nxe3,fxe3,Nxe5,Qc3,Rxc5,dxc5,Qc7,b4,a6,Nd4,Nc4,e4,Qe5,exd5,exd5,Re1,Qf6,Qa1,Qh4', 'Nf5,Qg5,Ne7+', 'https://lichess.org/training/PGX0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pgxfr', 'Classical', 'bahman25', 1907, 'WOWA40', 1870, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,d5,e6,Nc3,Bb4,Bb5+,Bd7,Bd2,Bxc3,Bxd7+,Qxd7,Bxc3,exd5,Bxg7,Rg8,Qd4,dxe4,Qxe4+,Qe7,Qxe7+,Kxe7,Be5,Na6,g3,f6,Bf4,Rae8,Nf3,Kd8+,Be3,Kc8,O-O,Kb8,Rad1,Nb4,a3,Nc6,Bxb6,axb6,Rd7,Re7,Rfd1,Kc8,Rxe7,Nxe7,Re1,Nc6,Nh4,Rg5,f4,Rb5,b4,Rd5,Re6,Rd6,Re8+,Rd8,Re6,Rd1+,Kg2,Rd2+,Kh3,Rd6,Re8+,Rd8,Rxd8+,Nxd8,Nf5,Nc6,Kg4,Kd7,Kh5,Ne7,Nxe7,Kxe7,Kh6', 'c5,Kxh7,c4', 'https://lichess.org/training/Pgxfr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PGZ9P', 'Rapid', 'venerabile48', 1773, 'adilsonconciani', 1873, 'c4,e5,Nc3,Nf6,d3,Bc5,g3,h6,Bg2,O-O,a3,Nc6,Nf3,d6,O-O,a6,b4,Ba7,b5,axb5,Nxb5,Ne7,Nxa7,Rxa7,Be3,Ra8,Qb3,c6,Bb6,Qd7,a4,Qe6,Qc2,Ra6,a5,c5,e4,Nc6,Qd2,Nd7,Rfb1,Nb4,Nh4,Nxb6,axb6,Rxb6,Nf5,Qf6,Ne3,Ra6,Rxa6,Nxa6,Nd5,Qd8,Nb6,Nb4,Nxc8,Qxc8,Rd1,Qd7,f4,f6,f5,Ra8,Rb1,Ra2,Qd1,b5,cxb5,Qxb5', 'Qb3+,Kh7,Qxa2', 'https://lichess.org/training/PGZ9P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PGzeM', 'Blitz', 'Greateldone', 1974, 'fulltilth5', 1974, 'e4,e5,Nf3,Nf6,d3,Nc6,c4,Bc5,Be2,d6,O-O,Bg4,Be3,Bb6,h3,Bxf3,Bxf3,O-O,Nd2,Nd7,Nb3,f5,exf5,Bxe3,fxe3,Qg5,d4,Qxe3+,Kh1,Nxd4,Nxd4,exd4,Bxb7,Rab8,Bd5+,Kh8,Qg4,Nf6,Qf3,Nxd5,Qxd5,Rxb2,Rae1,Qd2,Re7,Rxa2,Rxc7,d3,Rf7,Rxf7', 'Qa8+,Rf8,Qxf8#', 'https://lichess.org/training/PGzeM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PH2YZ', 'Classical', 'megalodon2809', 1716, 'jorgesebatian', 1707, 'c4,e5,g3,d5,cxd5,Qxd5,Nf3,Bg4,Nc3,Qd6,Bg2,Qc6,O-O,Qf6,Nxe5,Qxe5,Bxb7,Bh3,Re1,Nf6,Bxa8,Bd6,Bg2,Bxg2,Kxg2,O-O,d3,Nc6,Bf4,Qe6,Bxd6,Qxd6,Kg1,h5,Rc1,h4,a3,hxg3,fxg3,Ng4,e3,f5,e4', 'Qd4+,Kh1,Nf2+,Kg2,Nxd1', 'https://lichess.org/training/PH2YZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ph3PN', 'Blitz', 'atttmane', 1912, 'pack_of_red_apples', 1876, 'e4,c5,f4,Nc6,Nf3,e6,Bc4,Nf6,a3,d5,exd5,exd5,Ba2,Bd6,d3,O-O,O-O,Bg4,Nc3,Nd4,Nxd5,Nxd5,Bxd5,Bxf4,Bxb7,Rb8,Bxf4,Rxb7,Qc1,Ne2+,Kh1,Nxc1,Raxc1,Rxb2,Ne5,Be6,Nf3,Ra2,Bg5,Qd5,c4,Qxd3,Be7,Re8,Bxc5,Bxc4,Rfd1,Qf5,Rxc4,Rae2,Rcc1,Qg4,Rg1,h5,Nd4,Rd2,Nf3,Rd5,Bf2,Re2,h3,Qf4,Bxa7,Ra5,Bc5,Qg3,Bb4,Rd5,Rc8+,Kh7,Rcc1,f6,Rcf1,Rd3,Ne1,Rb3,Nf3,Rxb4,axb4,Qb8,Rb1,Qb5', 'Nd4,Qe5,Nxe2,Qxe2,b5', 'https://lichess.org/training/Ph3PN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pH5Gg', 'Blitz', 'Dmmanzharov', 2058, 'Nurgaz', 2072, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bd2,Qc7,O-O-O,O-O-O,c4,Bd6,Ne4,Bf4,Kb1,Bxd2,Nexd2,Ngf6,Nb3,Rhe8,Rde1,c5,Ne5', 'Nxe5,Rxe5,Qxe5,dxe5,Rxd3', 'https://lichess.org/training/pH5Gg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pH65i', 'Rapid', 'desertpatzer', 1616, 'Naceace', 1679, 'e4,e5,Nf3,d6,h3,Nc6,d4,exd4,Bb5,a6,Bxc6+,bxc6,Nxd4,c5,Nf3,Be7,Bf4,Nf6,e5,dxe5,Qxd8+,Bxd8,Bxe5,O-O,O-O,Re8,Nc3,Bb7,Bxf6,Bxf6,Nh2,Bxc3,bxc3,Bc6,a4,Re4,a5,Bb5,Rfe1,Rae8,Rxe4,Rxe4,Nf1,h6,Ne3,Bc4,Ra4,Bd3,Rxe4,Bxe4,c4,f6,g3,g6,h4,g5,hxg5,hxg5,c3,Kf7,Kf1,Ke6,Ke2,Ke5,f3,Bc6,Ng4+,Ke6,Ke3,f5,Nf2,Ke5,f4+,gxf4+,gxf4+,Kf6', 'Nd3,Ke6,Nxc5+', 'https://lichess.org/training/pH65i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ph9Oz', 'Classical', 'anonimAnonim', 1740, 'Stevarino', 1803, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,e3,Bb4+,Bd2,dxe3,fxe3,Bf5,Nd4,Nxd4,exd4,Qh4+,g3,Qe4+,Qe2,Bxd2+,Nxd2,Qxh1,Nf3,Bg4,Kf2,Bxf3,Qxf3,Qxh2+,Bg2,Qh6,Qxb7,Rd8,Bc6+,Kf8,Qxc7,Qd2+,Kg1,Qxd4+,Kh2,Ne7,Rf1,Qd2+,Kg1,Rc8,Qd7,Qxd7,Bxd7,Rd8,e6,f6,g4,h6,c5,Rxd7,exd7,Nc6,Re1,Kf7,b4,Nxb4,Rd1,Nc6,Rd6,Nd8,c6,Ke7', 'c7,Kxd6,c8=Q', 'https://lichess.org/training/Ph9Oz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ph9Yw', 'Classical', 'invalid_click', 1919, 'mjsmit', 1842, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,Nc6,Qd3,Nb4,Qd2,Nf6,Bc4,O-O,O-O,Re8,Re1,d5,exd5', 'Rxe1+,Qxe1,Nxc2,Qd1,Nxa1', 'https://lichess.org/training/ph9Yw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('phavS', 'Blitz', 'FM Ratbel', 2446, 'FM two64brocc', 2566, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Qxe2+,Bxe2,Nc6,Nf3,Bf5,d3,O-O-O,O-O,Nf6,Be3,Bg6,a3,e6,h3,Ne7,Rfe1,Ned5,Bd2,Bd6,Bf1,Rhe8,Ne5,Nd7,Nxg6,hxg6,Nxd5,exd5,Bc3,Be5,Bxe5,Rxe5,Rxe5,Nxe5,f4,Nd7,Re1,Nf6,g4,Re8,Rxe8+,Nxe8,Kf2,c6,d4,Kd7,c3,Nd6,Bd3,Ke6,Ke3,Kf6,Kf3,g5,f5,Ke7,Kg3,f6,h4,gxh4+,Kxh4,Nf7,Kg3,Ng5,Kf4,Kd6,Kg3,b6,Kf4,c5,Kg3,a5,Kf4,Kc6,Ke3,Nf7,Kf4,Nd6,g5,cxd4,cxd4,Nb5,Bxb5+', 'Kxb5,Kg4,Kc4', 'https://lichess.org/training/phavS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PhBHc', 'Rapid', 'Mohammad-324', 1622, 'sajadh', 1645, 'e3,d5,b3,e5,Bb2,Nc6,Bb5,Qf6,Nf3,Bd6,Nc3,Bd7,Nxd5,Qd8,Bxc6,bxc6,Nf4,Nf6,Nxe5,Bxe5,Bxe5,O-O,Nd3,Re8,h3,Bf5,Bc3,Bxd3,cxd3,Qxd3,Bxf6,gxf6,Qg4+,Qg6,O-O,Rad8,d4,Rd5,Qf4,Rg5,g3,Re7,Rac1,Re4,Qxc7,Rh4,Qc8+,Kg7,Rxc6,Rgh5,Kh2', 'Rxh3+,Qxh3,Rxh3+,Kxh3,Qh5+,Kg2,Qd5+,Kg1,Qxc6', 'https://lichess.org/training/PhBHc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('phBHh', 'Rapid', 'pmatti', 1827, 'poikanen', 2036, 'd4,d5,e3,Nf6,Bd3,Bg4,f3,Bh5,Nh3,Nc6,c3,e6,O-O,Bd6,Qb3,Rb8,Nd2,O-O,Qc2,Ne7,f4,c5,Ng5,Bg6,Bxg6,Nxg6,Qd1,cxd4,cxd4,h6,Ngf3,Rc8,Ne5,Ne4,Nxg6,fxg6,Nxe4,dxe4,Bd2,Qb6,Bc3,Kh7,Qg4,Rf5,Qe2,Be7,Qc2,Qc6,Qb3,Qd5,Qa4,a6,Rac1,Rcf8,Bb4,b5,Qa5,Bxb4,Qxb4,g5,fxg5,Rxf1+,Rxf1,Rxf1+,Kxf1,Qxa2,gxh6,Qb1+,Kf2,Qc2+,Kg3,Kxh6,Qe7,Qc8,Qh4+,Kg6,Qxe4+,Kf7,Qf4+,Kg8,Qe4,a5,h4,b4,b3,Qc7+,Kf3,Qd6,g4,a4,Qa8+', 'Qf8+,Qxf8+,Kxf8,bxa4,b3', 'https://lichess.org/training/phBHh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('phcva', 'Rapid', 'Ates-Ertugrul', 1654, 'obelfix', 1628, 'e4,d5,e5,d4,d3,c5,f4,Bf5,Nf3,e6,c3,Ne7,Qa4+,Nbc6,Qb5,b6,cxd4,cxd4,Na3,Qd5,Qc4,Qxc4,Nxc4,Nd5,Bd2,b5,Nd6+,Bxd6,exd6,O-O,Ne5,Nxe5,fxe5,Rfd8,a3,a5,Rc1,Ne3,Bxe3,dxe3,Ke2,b4,Kxe3,Rab8,a4,Rbc8,Be2,f6,d4,b3,Rc7,Rxc7,dxc7,Rc8,Rc1,Bc2,Bb5,Rxc7,exf6,gxf6,h3,Kf7,Rf1,Kg6,g4,h6,h4,Kg7,Kf4,Kg6,Rf2,Kg7,g5,hxg5+,hxg5,Rf7,gxf6+,Rxf6+,Ke3,Rh6,Rg2+,Kf7,Rg5,Rh3+,Kf4,Kf6,Re5,Rh4+,Ke3,Rh3+,Kf2,Rh2+,Kg3,Rd2,Bd7,Bf5,Rxa5,Rxd4,Ra7,e5,Bxf5,Kxf5,a5,Ra4,a6,Ke4,Ra8,Ra2,a7,Ra6,Kf2,Ra2,Ke1,Ra1+', 'Kd2,Ra5,Kc3', 'https://lichess.org/training/phcva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PHDJo', 'Blitz', 'faznaz83', 2092, 'pencaso', 2160, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,a6,Qd2,b5,a3,Qc7,Be2,cxd4,Nxd4,Nxd4,Bxd4,Bc5,O-O,Qb6,Bxc5,Qxc5+,Kh1,Nb6,b4,Qc7,Qd4,Bd7,Rf3,Rc8,Rg3,g6,f5,gxf5,Rf1,Ke7,Qh4+,Ke8,Qf6,Rf8,Bh5,Qd8', 'Bxf7+,Rxf7,Rg8+,Rf8,Rxf8#', 'https://lichess.org/training/PHDJo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PhfXs', 'Rapid', 'VictorPanda', 1893, 'RamuPaudel', 1839, 'c4,e6,Nc3,c6,Nf3,d5,cxd5,cxd5,d4,Bd6,g3,Nc6,Qa4,Bd7,Qb3,Rb8,Bg2,Nge7,Nb5,Bb4+,Bd2,Bxd2+,Nxd2,O-O,e3,a6,Nc3,b5,a3,Na5,Qc2,Nc4,O-O,Nxd2,Qxd2,Qc7,Rac1,Qb6,b4,Rfc8,e4,dxe4,Nxe4,Nf5,Nc5,Bc6,Bxc6,Rxc6,Nd7,Qd8,Nxb8,Rxc1,Rxc1,Qxb8,d5,h6,dxe6,fxe6,Rc6,Qb7,Qd8+,Kh7,Rxe6,Qf3,Qf8', 'Qd1+,Kg2,Qd5+', 'https://lichess.org/training/PhfXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pHGXV', 'Rapid', 'barmaleyyyyyyyy', 1919, 'Jimi2804', 1900, 'd4,d5,Nf3,Bf5,Bf4,e6,e3,Bd6,Be2,Bxf4,exf4,f6,c3,Ne7,O-O,Ng6,g3,h5,Bd3,h4,Bxf5,exf5,Re1+,Kf7,Qd3,hxg3,fxg3,Ne7,Nbd2,Qd6,Re2,Nbc6,Rae1,Rae8,Re6,Qd7,Qb5,Nc8,Rxe8,Rxe8,Rxe8,Qxe8,Qxb7,Qe3+,Kg2,N8e7,Qxc7,g5,fxg5,fxg5,Nf1', 'Qe2+,Kg1,Qxf3', 'https://lichess.org/training/pHGXV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PHhmI', 'Rapid', 'csgo228211', 1842, 'Ivan19456', 1889, 'e4,e6,d4,d6,Nc3,g6,Bf4,Bg7,Qd2,Ne7,Nf3,b6,Bc4,Bb7,Bb5+,Bc6,Bxc6+,Nbxc6,a3,e5,dxe5,dxe5,Bh6,Qxd2+,Bxd2,Rd8,O-O-O,O-O,Bg5,f6,Be3,f5,exf5,Nxf5,Bg5,Rxd1+,Rxd1,h6,Bd2,e4,Nxe4,Rd8,Bf4', 'Bxb2+,Kxb2,Rxd1', 'https://lichess.org/training/PHhmI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Phhxq', 'Rapid', 'koRani', 2069, 'miki2444', 2164, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,Nbd7,Be3,e6,O-O,Be7,Kh1,O-O,Nb3,b5,a3,Bb7,f3,Rc8,Rc1,Qc7,Qe1,Ne5,Qf2,Nc4,Bxc4,bxc4,Bb6,Qb8,Na5,d5,exd5,Nxd5,Nxd5,Bxd5,Rfe1,Bf6,c3,Qd6,Rcd1,Rb8,Bc5,Qc7,b4,cxb3,c4,Ba8,Bxf8,Kxf8,Qd2,Bd8,Nxb3,Bh4,Nd4,Bxe1,Qxe1,Qxc4,Qe5,Rc8,Qd6+,Kg8,Nf5,h6', 'Ne7+,Kh7,Nxc8', 'https://lichess.org/training/Phhxq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PhioJ', 'Rapid', 'Alexey58', 2279, 'Lefteris_N', 2397, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Nf6,Nc3,d6,Be2,Nbd7,Be3,Be7,O-O,Qc7,f4,b6,b3,Bb7,Bf3,b5,Ndxb5,axb5,Nxb5,Qb8,e5,dxe5,fxe5,Nxe5,Bxb7,Qxb7,Nd6+,Bxd6,Qxd6,Neg4,Bc5,Ne4,Qd4,Rd8', 'Qxg7,Nxc5,Qxh8+', 'https://lichess.org/training/PhioJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PHjQn', 'Blitz', 'isilud', 2062, 'CM FourNinetySix', 2389, 'd4,d5,c4,Nc6,Nc3,dxc4,Nf3,Bg4,Bf4,e6,e3,Bd6,Bxd6,Qxd6,Bxc4,Nge7,O-O,O-O,h3,Bh5,Rc1,e5,Ne4,Qg6,Bd3,exd4,Ng3,Qh6,Nxh5,Qxh5,exd4,Rad8,Re1,Nd5,Rc5,Qh6,Qb3,Nf4,Bf1,b6,Rcc1,Nxd4,Nxd4,Rxd4,Rxc7,Qg6,Kh1,Nd3,Bxd3,Rxd3,Qc4,h6,Rc8,Rxc8,Qxc8+,Kh7,Re8,Rd1+,Kh2,Qd6+,g3,Qd5,Rh8+,Kg6,Qg4+,Kf6,Qf4+,Qf5,Qh4+,Qg5,Qxg5+,hxg5,Ra8,Rd2,Kg2,a5,a4,Rxb2,Rc8,Rb4,Rc6+,Ke5,Rc7,Rxa4,Rxf7,b5,Rxg7,Kf6,Rb7,b4,Kf3,Ra2,h4,gxh4,gxh4,Ra3+,Kg4,b3,h5', 'Ra4+,f4,Rb4', 'https://lichess.org/training/PHjQn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('phk5d', 'Rapid', 'Josemaza10', 1796, 'mysteriousbishop', 1665, 'd4,Nf6,e4,Nxe4,Bd3,Nf6,c3,d5,f4,Bg4,Nf3,Ne4,O-O,Nc6,Nbd2,f5,Qc2,Nd6,Ne5,Nxe5,fxe5,Ne4,Nxe4,dxe4,Bxe4,fxe4,Qxe4,Bc8,Bg5,c6,Rad1,Be6,Qf4,Qb6,b3,O-O-O,Qh4,h6,Bxe7,g5,Bxg5,Rd7,Bf6,Rg8,c4,c5,Rf4,cxd4,Kh1,Qc6,Qf2,d3,Rf3,Bg4,Rg3,Be6,Rgxd3,Bc5,Qf3,Qxf3,gxf3,Bh3,Rxd7,Bxd7,h4,Bc6,Rf1,Rg3,Kh2,Rxf3,Rxf3,Bxf3,Kg3,Bc6,Kf4,Bd4,Kf5,Kd7', 'e6+,Ke8,Bxd4', 'https://lichess.org/training/phk5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pHkYi', 'Classical', 'GnarlyHarley', 1651, 'Miki0729', 1624, 'Nc3,d5,e4,dxe4,Nxe4,Nf6,Ng5,h6,Ne4,Nxe4,Bb5+,Bd7,a4,Bxb5,axb5,e5,Ra4,Nd6,Ra5,b6,Ra4,Nxb5,Nf3,Bd6,b4,O-O,Bb2,e4,Nd4,Nxd4,Bxd4,c5,bxc5,bxc5,Be3,a5,Rxe4,Nc6,O-O,Re8,d3,Rxe4,dxe4,Nb4,Re1,Qh4,g3,Qxe4,Qxd6,Rf8', 'Qxf8+,Kxf8,Bxc5+,Kg8,Rxe4', 'https://lichess.org/training/pHkYi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Phm3l', 'Rapid', 'xaniageo', 1615, 'puteprovod', 1615, 'e4,c5,Nc3,Nc6,Nf3,g6,Bb5,Bg7,d3,Nf6,Bg5,O-O,Qd2,Ng4,h3,Nge5,Nxe5,Bxe5,Bh6,Bg7,O-O-O,Nd4,Bc4,a6,a3,e6,h4,b5,Ba2,Bb7,h5,b4,Ne2,Nxe2+,Qxe2,Bxh6+,Kb1,d5,hxg6,fxg6,Rxh6,Qf6,Rdh1,Rf7,exd5,exd5,f3,Re7,Qf2,Rae8,Qg3,Qe6,c3,Qe1+', 'Rxe1,Rxe1+,Kc2', 'https://lichess.org/training/Phm3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pHmEk', 'Rapid', 'Muleskinner', 1958, 'TonyYang', 1962, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Bxc6,bxc6,O-O,Nf6,Qf3,Be7,e5,dxe5,Nxc6,e4,Qc3,Bxc6,Qxc6+,Nd7,Rd1,Rb8,Be3,Rxb2,Nd2,Rb4,a3,Rb8,Nxe4,h5,Bxa7,Rh6,Qa4,Ra8,Nc5,Bxc5,Rxd7,Qxd7,Qe4+,Re6', 'Qxa8+,Qd8,Qxd8+,Kxd8,Bxc5', 'https://lichess.org/training/pHmEk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PHmI9', 'Classical', 'CEAJE', 1875, 'E6d4', 1940, 'e4,b6,d4,Bb7,f3,e6,Ne2,c5,c3,cxd4,cxd4,Nf6,Nbc3,d5,e5,Nfd7,Ng3,Be7,Be3,O-O,Bd3,Ba6,Bxa6,Nxa6,O-O,Nc7,a4,Rb8,Nb5,a6,Nd6,b5,axb5,Nxb5,Rxa6,Nxd6,exd6,Bf6,b3,Rb6,Ra7,Rxd6,Bf4,Rc6,Nh5,Be7,Re1,g6,Ng3,Qc8,Bh6,Re8,Qe2,Bf6,Qe3,Rc3,Qf4,Rd3,Rxd7', 'Bxd4+,Qxd4,Rxd4', 'https://lichess.org/training/PHmI9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PHoSb', 'Rapid', 'dismember', 1863, 'Tol27', 1898, 'd4,g6,Bf4,Bg7,e3,d6,h3,Nc6,c3,e5,Bh2,Be6,Nd2,exd4,exd4,Nge7,Ngf3,O-O,Be2,f5,O-O,f4,Nc4,d5,Nce5,Nxe5,dxe5,Bxe5,Nxe5,Qd6,Nd3,g5,Re1,Rf6,Bf3,Nf5,Ne5,Nh4,Ng4,Rg6,g3,Nxf3+,Qxf3,h5,Ne5,g4,hxg4,hxg4,Qd3,Rh6,Kg2,f3+,Kg1,Kg7,Re3,Rah8,Nxg4,Bxg4,Qd4+,Kf8,Qxg4,Rxh2,Rxf3+,Ke8,Qc8+,Ke7,Re1+,Qe6,Qxe6+,Kd8,Qf6+,Kc8,Qg6', 'Rh1+,Kg2,R8h2#', 'https://lichess.org/training/PHoSb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pHPI9', 'Rapid', 'rsbofficials', 1622, 'abdag58', 1605, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Bb5,cxd4,Nxd4,Qb6,Nc3,Bc5,Be3,Bd7,Bxc6,bxc6,Na4,Qb4+,Nc3,Qxb2,O-O,Qxc3,Rb1,Ne7,Rb7,Bc8,Rc7,Bb6,Ne2,Qxe5,Bxb6,axb6,Rxe7+,Kxe7,Re1,Qd6,Nd4,Re8', 'Nf5+,Kd7,Nxd6', 'https://lichess.org/training/pHPI9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pHPup', 'Classical', 'ElfofSerenity', 1614, 'dav-sto', 1694, 'e4,c5,Nf3,d5,Bb5+,Nc6,exd5,Qxd5,Nc3,Qe6+,Qe2,Qxe2+,Bxe2,Bf5,Nd5,O-O-O,c4,e6,Ne3,Nh6,Nxf5,Nxf5,O-O,Be7,a4,h6,a5,a6,b3,Nb4,Bb2,f6,Rfd1,Nd3,Bxd3,Rxd3,Re1,e5,Bc3,Nd4,Re3,Rxe3,fxe3,Nxb3', 'Rb1,Nxa5,Bxa5', 'https://lichess.org/training/pHPup');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PHq5j', 'Blitz', 'Tyr666', 1575, 'Nipzu', 1622, 'c4,e5,Nc3,Nf6,Nf3,Bc5,Nxe5,d6,Nf3,O-O,e3,Be6,d4,Bb4,Bd2,d5,cxd5,Nxd5,Nxd5,Bxd2+,Qxd2,Qxd5,b3,Nc6,Bc4,Qf5,Bxe6,fxe6,O-O,Rf6,Rae1,Qg4,Kh1,Rg6,Rg1,Rf8,Ne5,Nxe5,dxe5,Rf5,f3,Qh4,Qd4', 'Qxh2+,Kxh2,Rh5+,Qh4,Rxh4#', 'https://lichess.org/training/PHq5j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pHQRr', 'Rapid', 'bchess999', 1823, 'vladimir09', 1897, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,Nf3,O-O,e3,Nbd7,cxd5,exd5,Bb5,c6,Bxf6,Bxf6,Bd3,Be7,a3,Nf6,O-O,Bg4,Ne5,Be6,Bc2,Nd7,Qd3,f5,Ng4,Nf6,Ne5,Nd7,f4,c5,Bb1,cxd4,Nxd7,Qxd7,Qxd4,Bf6,Qd3,Rad8,Qb5,Bxc3,Qxd7,Rxd7,bxc3,Rc7,Rc1,Rfc8,Ba2,Rxc3,Rd1,Rxa3,Bxd5,Rxa1', 'Bxe6+,Kh8,Rxa1', 'https://lichess.org/training/pHQRr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('phrjY', 'Rapid', 'patxmat', 1857, 'Karpfen_schach', 1830, 'e4,e5,Nf3,Nf6,Bc4,Nc6,d3,Bc5,Be3,Bb6,O-O,h6,Nc3,g5,d4,Ng4,Nd5,d6,Nxb6,axb6,Bb5,exd4,Bxd4,Rh7,e5,dxe5,Bxe5,Be6,Qxd8+,Rxd8,Bxc7,Rd5,Bd3,Rh8,Bxb6,Nce5,Nxe5,Nxe5,Rad1,Nxd3,Rxd3,Rxd3,cxd3,Kd7,b3,Ra8,h3,Rxa2,Rc1,Bd5,b4,Rb2,Bc5,Rb3,d4,h5,Re1,f6,Be7,g4,hxg4,hxg4,Bxf6,Rxb4,Re7+,Kc6,Rg7,Be6,Rg6,Kd5,Be5,b5,Rg5,Rb1+,Kh2,Ke4,Kg3,Rb3+,Kh4,Rb4,Rg6,Bf5,Rb6,Rb2,Kg5,Rxf2,Rxb5,Rxg2,Kh4,Rg1,Kg5,g3,Bc7,Bd7,Rb2,g2,Bb6,Bc6,d5,Rc1,Rxg2,Bxd5,Re2+,Kd3,Re3+,Kc4,Re8,Kb5,Bf2,Rf1,Bg3,Rg1,Kf4,Bc6,Re5+,Kc4,Bf2,Rf1,Kg3,Bd5,Re7,Rb1,Rc7+,Kd3,Rd7,Ke4,Re7+,Kf5,Re1,Rb3+,Kh4,Bg2,Re3,Rb8,Kg3,Rg8+,Kh2,Be4,Rg3,Rh8+,Kg1', 'Rh1#', 'https://lichess.org/training/phrjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PHRqq', 'Rapid', 'waks60', 1605, 'fishndinty', 1607, 'd4,d5,c4,Nf6,Nc3,Be6,cxd5,Nxd5,Nxd5,Bxd5,Nf3,Nc6,g3,e6,Bg2,Bd6,O-O,Bxf3,Bxf3,Qd7,b3,O-O-O,e3,e5,Bb2,exd4,Bxd4,Nxd4,Qxd4,Qf5', 'Bg4,Qxg4,Qxg4+', 'https://lichess.org/training/PHRqq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pHRT1', 'Rapid', 'bartosz546', 1761, 'alan03', 1748, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,Re1,O-O,c3,c6,d4,Bg4,Nbd2,d5,dxe5,dxc4,exf6,Bxf6,Nxc4,Bxf3,Qxf3,b5,Nd2,Nd7,Nb3,Qb6,Bf4,Rfe8,Rad1,Ne5,Bxe5,Rxe5,Nd4,c5,Nf5,Qe6,Qg4,Qxa2,Rd7,Rae8', 'Nh6+,Kf8,Rxf7+,Qxf7,Nxf7', 'https://lichess.org/training/pHRT1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('phSPH', 'Rapid', 'RolanReyno', 1747, 'NoureddineIQ', 1753, 'd4,Nf6,e3,e6,Bd3,d5,Nd2,Bb4,c3,Ba5,Ngf3,O-O,a4,Nc6,b4,Bxb4,cxb4,Nxb4,Bb1,Qd6,Ba3,a5,O-O,b6,Ne5,c5,f4,Ba6,dxc5,bxc5,Re1,Nd7,Ndf3,f6,Nxd7,Qxd7,Bxb4,axb4,e4,d4,f5,e5,a5,Rab8,Qa4,Bb5,Qa2+,Kh8,Qe6,Qb7,a6,Qc7,a7,Ra8,Bc2,Rxa7,Rxa7,Qxa7,Bb3,Qa3,Bc4,Ba4,h3,Bc2,Qe7,Rb8,Qe6,d3,Nd2,Qc3,Qd6,Rc8,Qd7,Rb8,Qc7,Rg8,Bxg8,Kxg8,Qd8+,Kf7,Qd7+,Kf8,Qd6+,Ke8,Qe6+,Kd8,Qg8+,Kc7,Qxg7+,Kb6,Qxf6+,Kb5,Nf3,d2,Nxd2,Qxd2,Ra1', 'Qd4+,Kh2,Qxa1', 'https://lichess.org/training/phSPH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pHVHR', 'Rapid', 'sheasheawanton', 1685, 'Howie', 1806, 'c4,e5,g3,Nf6,Bg2,Be7,Nc3,O-O,e4,c6,Nge2,h6,O-O,Nh7,d4,exd4,Nxd4,d6,Be3,Re8,Qc2,Bg5,Rae1,Nd7,Nf5,Ne5,Bxg5,hxg5,Ne3,g4,Rd1,Ng5,b3,Re6,Nf5,Rf6,Nh4,Ngf3+,Nxf3,gxf3,Bh1,Rh6,Qd2,Bh3,Rfe1,Bg2,Bxg2,fxg2,Kxg2,Qf6,Qf4,Qe6,Ne2,c5,Nc3,Ng4,h4,Rf6,Qg5,Rxf2+,Kg1,Rf3,Ne2,f6,Qg6,Ne5,Qh5,Qh3,Rf1,Rxf1+,Rxf1,Ng4,Qd5+,Kh8,Qh5+,Kg8,Qd5+,Kh7,Qh5+,Nh6,Nf4,Qxg3+,Kh1,Re8,Rg1,Qxf4', 'Qg6+,Kh8,Qxg7#', 'https://lichess.org/training/pHVHR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PhWz0', 'Rapid', 'Kobu001', 1628, 'angnicolas33', 1633, 'd4,d5,Nf3,Bf5,Bf4,e6,e3,a6,c4,dxc4,Bxc4,Nf6,Nc3,Be7,Bd3,Bxd3,Qxd3,h6,h3,c5,O-O,O-O,Ne4,cxd4,Nxd4,Nbd7,Rfd1,e5,Nxf6+,Bxf6,Nf5,exf4,Qxd7,fxe3,Nxe3,b5,Qg4,Qb6,Nf5,Kh8', 'Rd6,Qxd6,Nxd6', 'https://lichess.org/training/PhWz0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('phXVQ', 'Rapid', 'dendy-metamorphosis', 2054, 'granario', 2164, 'd4,Nf6,Bg5,e6,e4,Be7,f3,d5,Nc3,a6,a4,b6,Bd3,c5,Nge2,c4,Bxf6,gxf6,Bxc4,dxc4,O-O,O-O,Qe1,Kh8,Rd1,Rg8,Kh1,Qc7,d5,Bd6,Qh4,Rg6,Rd2,e5,Ng3,Nd7,Nf5,Nc5,Ne2,Bd7,Neg3,Rag8,Nh5,Bxf5,Nxf6,h6,exf5,Rxf6,Qxf6+,Rg7,Qxh6+,Rh7,Qf6+,Rg7,f4', 'Ne4,Qh4+,Rh7,Qe1,Nxd2', 'https://lichess.org/training/phXVQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pHyj3', 'Rapid', 'seranne', 1635, 'Neron291', 1666, 'e4,e5,Nf3,Qf6,d4,exd4,Nxd4,Bc5,Be3,Nc6,c3,a6,Be2,h6,O-O,Nge7,Qd2,d6,Nxc6,Nxc6,Bxc5,dxc5,Na3,O-O,Nc4,Qg6,Bf3,Be6,Ne3,Rad8,Qe2,Ne5,Rad1,Bc4', 'Nxc4,Nxf3+,Qxf3', 'https://lichess.org/training/pHyj3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('phz0F', 'Blitz', 'NM Chesspirate421', 2465, 'Poiskowik32', 2241, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,d3,e6,Be3,d6,Qd2,Nd4,Nd1,Ne7,c3,Ndc6,Bh6,O-O,h4,Re8,Bxg7,Kxg7,h5,Ng8,hxg6,fxg6,Nf3,e5,Ne3,h6,O-O-O,Be6,Kb1,b5,Nh4,Qa5,Nd5,b4,c4,Bxd5,exd5,Nd4,Be4,Qc7,Nxg6,b3,a3,Qf7,f4,exf4,gxf4,Rxe4,dxe4,Kxg6,Rdg1+,Kh7,Rg4,Re8,Rhg1,Rxe4', 'Rg7+,Qxg7,Rxg7+,Kxg7,Qg2+,Kf7,Qxe4', 'https://lichess.org/training/phz0F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pi2uk', 'Rapid', 'JuanesMarser1', 2035, 'santiagocotess', 1853, 'd4,d5,c4,dxc4,e4,Nf6,e5,Nd5,Bxc4,Bf5,Qb3,e6,Qxb7,Nd7,Bb5,Rb8,Bxd7+,Kxd7,Qxa7,Rc8,Nc3,Nxc3,bxc3,Qh4,Nf3', 'Qe4+,Be3,Ra8,Qxa8,Qxa8', 'https://lichess.org/training/Pi2uk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pi4MA', 'Rapid', 'Cemer00', 1768, 'C_ROW', 1735, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e5,Nf3,Be7,Bxf6,Bxf6,Nd5,Be6,Nxf6+,Qxf6,Qxd6,Nc6,O-O-O,Rd8,Qc7,Rxd1+,Kxd1,O-O,Bxa6,Rd8+,Kc1,Bxa2,Bd3,Qf4+,Kd1,Qxe4', 'Qxd8+,Nxd8,Bxe4', 'https://lichess.org/training/Pi4MA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pi4Y3', 'Blitz', 'vladimir1951', 1804, 'FM Schemato', 2090, 'd4,e6,c4,f5,Nc3,Nf6,Nf3,Bb4,g3,b6,Bg2,Bb7,O-O,Bxc3,bxc3,O-O,Bg5,h6,Bf4,d6,a4,a5,Qc2,Nbd7,Rfe1,Qe7,Nd2,Bxg2,Kxg2,e5,Be3,Ng4,h3,Nxe3+,fxe3,Qg5,Rf1,Qxe3,Rae1,f4', 'Rf3,exd4,Rxe3', 'https://lichess.org/training/Pi4Y3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pi5Ge', 'Classical', 'sanuhaku', 1978, 'nettysek', 1975, 'e4,d6,Nf3,Nf6,Nc3,c5,Bc4,e6,d3,h6,h3,a6,O-O,Be7,Bd2,b5,Bb3,Bb7,Nh2,Nbd7,Ng4,Rc8,a4,b4,Ne2,d5,exd5,Nxg4,dxe6,Nde5,hxg4,fxe6,Bxe6,Rc6,Nf4,g5,Re1,Qd6,Bd5,gxf4,Bxc6+,Qxc6,f3,Ng6,Qe2,O-O,Qe6+,Qxe6,Rxe6,Kf7,Rae1,Bh4,R1e2,Bf6,c3,a5,cxb4,cxb4,b3,Bd5,Ra6,Bxb3,Rxa5,Rd8,Ra7+,Kg8,Bxb4', 'Bd4+,Kh2,Bxa7', 'https://lichess.org/training/Pi5Ge');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pi6q0', 'Blitz', 'marcelo123', 1574, 'IAmPatronDesChess', 1562, 'd4,d5,Bf4,e6,e3,Nf6,Nf3,Be7,Bd3,O-O,Nbd2,Nbd7,c3,b6,Ne5,Bb7,Bg3,Rc8,f4,c5,O-O,cxd4,cxd4,Nxe5,fxe5,Nd7,Qh5,g6,Qh6', 'Bg5,Qh3,Bxe3+,Bf2,Bxd2', 'https://lichess.org/training/pi6q0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PI7Mj', 'Rapid', 'NGANGOU', 1927, 'AxlChess', 1938, 'e4,e6,Nf3,d5,exd5,exd5,c4,Be6,cxd5,Qxd5,Nc3,Qa5,d4,Ne7,Be2,a6,O-O,Nbc6,Ng5,O-O-O,Nxe6,fxe6,Be3,Nxd4,Bxd4,Nc6,Bg4,Nxd4,Qe1,Qb6,Rd1,Kb8,Qe5,Bd6,Qg5,Rhf8,Ne4,h5,Bxh5,g6,Bxg6,Bf4,Qc5,Bxh2+,Kxh2,Rh8+,Bh5', 'Qxc5,Nxc5,Rxh5+', 'https://lichess.org/training/PI7Mj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pi8Sc', 'Rapid', 'paraklitos', 914, 'GabrielCandela', 850, 'c4,Nc6,c5,d5,f4,Bf5,a4,b5,axb5,Nb4,Ra4,Bxb1,Rxb4,a6,Rd4,axb5,Rb4,Ra4,Rxb5,Rxf4,e3', 'Rxf1+,Kxf1,Bd3+,Kf2,Bxb5', 'https://lichess.org/training/Pi8Sc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pI8XG', 'Rapid', 'Priza', 1773, 'microcommega', 1957, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,h3,d6,c3,O-O,O-O,Bd7,Be3,Bxe3,fxe3,Ne7,d4,Ng6,Nbd2,c6,Nh2,Qe7,Ndf3,Nxe4,Bd3,d5,Nd2,f5,Bxe4,fxe4,Qh5,exd4,cxd4,Qb4,Nb3,b6,Ng4,Qd6,Nf2,Rf5,Qe2,Raf8,Ng4,Qg3,Ne5,Nxe5,dxe5,Qxe5,Nd4,Rxf1+,Rxf1,Rxf1+,Kxf1,c5,Nb3,d4,exd4,cxd4,Qc4+,Kf8,Qxd4,Bb5+,Kg1,Qf4', 'Qb4+,Kf7,Qxb5', 'https://lichess.org/training/pI8XG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pi9qs', 'Rapid', 'Philipp_D', 1635, 'Kai_Romel', 1627, 'd4,d5,Bf4,Nc6,e3,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Nf6,O-O,Bd6,Ne5,Bxe5,dxe5,Ne4,Nd2,Nxd2,Qxd2,O-O,Bg3,Qg5,f4,Qg6,Rf3,Qe4,Bh4,Nb4,c3,Nd3,Rd1,Nc5,Rg3,h6,b4,Nd7,Rf1,Nb6,Qe2,Nc4,Bf6,g6,Qh5,Kh7,Qh4,Nxe3', 'Qxh6+,Kxh6,Rh3#', 'https://lichess.org/training/pi9qs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pIa5t', 'Rapid', 'Chessflowerpower', 1767, 'BasvanBeek', 1909, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,f5,Bxb5,axb5,Nxb5,Ra7,O-O,Rb7,a4,Bg7,Qh5,fxe4,Rfe1,Be6,c4,O-O,Rxe4,f5,Rh4,h6,Ra3,f4,g3,f3,Qg6,Bf7,Qe4,Rxb5,axb5,Nd4,Ra7,Qg5,Ne3,d5,cxd5,Nxb5,Rg4,Qh5,Qxf3,Nxa7,Nf5,Bg6,Ne7+,Kh7,Qe2,Bf5', 'Rxg7+,Kxg7,Qxh5', 'https://lichess.org/training/pIa5t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('piBTc', 'Blitz', 'YOGESH0420', 2201, 'aa175', 2235, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d5,c4,c5,dxc5,dxc4,Qa4,Be6,Ng5,Bd5,e4,Bc6,Qxc4,h6,Nh3,Qd7,Nc3,Ng4,Rd1,Qc8,Rb1,Ne5,Qe2,Nbd7,b4,a5,a3,axb4,axb4,b5,Nd5,Qd8,Bb2,e6,Ne3,Ra2,Rd2,Qa8,f4,Nc4,Nxc4,bxc4,Qxc4,Bxb2,Rdxb2', 'Rxb2,Rxb2,Qa1+,Bf1,Qxb2', 'https://lichess.org/training/piBTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pICsA', 'Classical', 'ankan1378', 2068, 'tobi816', 1929, 'd4,e6,Nc3,Bb4,e4,d5,e5,c5,a3,cxd4,axb4,dxc3,bxc3,Qc7,Qd4,Nc6,Bb5,Bd7,Bxc6,bxc6,f4,Ne7,Nf3,O-O,Qf2,Rfc8,Be3,Nf5,Bc5,a5,O-O,a4,g4,Nh6,Qg3,g6,Nd4,Kg7,f5,exf5,gxf5,Re8,Qf4,Nxf5,Nxf5+,Bxf5,Qg5,Qd8', 'Rxf5,Qxg5+,Rxg5', 'https://lichess.org/training/pICsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pIDBb', 'Blitz', 'Niper13', 2518, 'GM GingerGM', 2603, 'Nf3,f5,c4,Nf6,d4,e6,Bf4,Bb4+,Nbd2,b6,e3,Bb7,h3,O-O,Bd3,Ne4,O-O,Bxd2,Nxd2,Nxd2,Qxd2,d6,Rac1,Nd7,Bh2,a5,b3,e5,d5,Nc5,Bc2,Bc8,f4,exf4,Rxf4,Qe7,Rcf1,g6,g4,Re8,gxf5,Qxe3+', 'Qxe3,Rxe3,fxg6', 'https://lichess.org/training/pIDBb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pidlf', 'Classical', 'ChesscheAli', 1807, 'melankoli', 1867, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Bc4,Be7,Qd2,O-O,O-O,Qc7,Bb3,Nbd7,Rad1,Nc5,f4,b5,e5,dxe5,fxe5,Qxe5,Nc6,Qc7,Nxe7+,Qxe7,Bxf6,gxf6,Qh6,f5,Rxf5,exf5', 'Nd5,Qe5,Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/pidlf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pIEho', 'Classical', 'newmepart12', 1695, 'VasileGhilea', 1663, 'd4,d5,c4,e6,Nc3,c5,cxd5,exd5,Nf3,Nf6,Be3,cxd4,Bxd4,Nbd7,e3,b6,Bb5,Bd6,O-O,O-O,Qd3,a6,Ba4,b5,Bb3,Bb7,Bc2,Re8,Rfe1,Bc5,Bxf6,Nxf6,Ng5,g6,a3,Ng4,Nf3,d4,exd4,Bd6,Re2,Bxf3,Qxf3,Bxh2+,Kf1,Qh4,Rae1,Rxe2', 'Qxa8+,Kg7,Rxe2', 'https://lichess.org/training/pIEho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PIeZq', 'Rapid', 'LeBlaBlaZ', 1915, 'fredhont', 1760, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,Qe7,Qxe4,d6,d4,dxe5,dxe5,Nc6,Bf4,Qb4+,Nc3', 'Qxb2,Rb1,Qxc3+', 'https://lichess.org/training/PIeZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PiFZO', 'Rapid', 'HalexAraujo', 1764, 'Mohr', 1726, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,dxe5,dxe5,Bxc6,Bxc6,Qxd8+,Rxd8,Nxe5,Bxe4,O-O,Bxc2,Re1,Be7,Nc3,Nf6,Bg5,O-O,Rac1,Bf5,Nf3,Be6,a3,c6,b4,h6,Bh4,Rfe8,Rcd1,Nd5,Bxe7,Rxe7,Ne4,Ree8,Nc5,b6,Nxe6,Rxe6,Rxe6,fxe6,Nd4,Rd6,g3,Kf7,Rc1,Ne7,Nf3,Kf6,Kg2,Rd3,Ra1,Nd5,Ne1,Rd2,Nf3,Rb2,Nd4,c5,bxc5,bxc5,Nc6,a6,Na5,e5,Rc1,Rb5,Nc6,g5,a4,Rb2,Rxc5,Ne3+,Kf3,Nd1,Nxe5,Rxf2+,Kg4,Ne3+,Kh3,Nf1', 'Ng4+,Ke7,Nxf2', 'https://lichess.org/training/PiFZO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pIhV5', 'Rapid', 'Calypso13', 1776, 'dranno', 1737, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Ng5,d5,exd5,Nxd5,Qf3,Qxg5,Bxd5,Qg6,c3,Bc5,Be4,Qg4', 'Bxc6+,bxc6,Qxc6+', 'https://lichess.org/training/pIhV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pIihQ', 'Blitz', 'BombRub', 2331, 'CM WildTricks', 2388, 'd4,f5,c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nh3,d6,O-O,Qe8,d5,e5,dxe6,Bxe6,b3,Nbd7,Bb2,Nc5,Ng5,h6,Nxe6,Qxe6,Nd5,Kh8,Nxc7,Qf7,Nxa8,Rxa8,Bd5,Qe7,Qd2,Kh7,f3,Re8,Rf2,b5,b4,Na4,Bd4,Nxd5,cxd5,Rc8,Rb1,Nc3,Bxc3,Bxc3,Qd3,Qe5,e3,g5,f4,gxf4,gxf4,Qf6,Rg2,Re8,a3,Rxe3,Qxb5,Bd4,Qd7+', 'Re7+,Kf1,Rxd7', 'https://lichess.org/training/pIihQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PijXQ', 'Classical', 'Daghman-Stein', 1961, 'destructivo', 2112, 'f4,g6,Nf3,d5,e3,Bg7,Ne5,Nd7,Nxd7,Bxd7,d4,Bf5,Bd3,Qd7,c3,Nf6,Bxf5,Qxf5,Qa4+,c6,Nd2,O-O,O-O,h5,b4,a6,Qb3,Rfe8,a4,Qd3,Nf3,b5,Rd1,Qf5,a5,Ne4,Qc2,Qe6,Nd2,Nxd2,Bxd2,Kh7,Rf1,f5,Rae1,Bf6,Rf3,Rh8,Qd1,Rag8,g3,h4,Kg2,Kg7,Rh1,Qe4,Qb1,Qe6,Rff1,Rh6,Kf2,Rgh8,Rfg1,Kf7,Re1,R8h7,Reg1,Qc8,Qd1,hxg3+,hxg3,Qh8,Kg2', 'Rh2+,Rxh2,Rxh2+', 'https://lichess.org/training/PijXQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pikaD', 'Classical', 'jas37', 1714, 'Force55', 1635, 'Nc3,d5,d4,Nf6,e4,dxe4,d5,e6,Bb5+,c6,Ba4,exd5,Qe2,Bb4,Bd2,O-O,O-O-O,Re8,Bb3,Bg4,Qe1,Bxd1,Qxd1,Nbd7,f3,Nc5,fxe4,Nxb3+,cxb3,Bxc3,bxc3,Nxe4,Nf3,Nf2,Qf1,Nxh1,Qxh1,a5,h4,a4,b4,b5,g4,g6,Bh6,Qd6,Qd1,c5,a3,cxb4,Qd4,f6,cxb4,Rac8+,Kb1,Rc4,Qa7,Re7,Qa8+,Kf7,Qf8+,Ke6,Bg7,Rxg7,Qxg7,Rxg4,Qxh7,Qf4,Qg8+,Kf5', 'Qxd5+,Qe5,Nxe5', 'https://lichess.org/training/pikaD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PIkPS', 'Rapid', 'thromius', 1759, 'ShashV', 1703, 'e4,d5,exd5,c6,dxc6,bxc6,Nf3,f6,Nc3,e5,d3,Bb4,Bd2,Ne7,a3,Bc5,b4,Bd4,Nxd4,exd4,Ne2,Nd5,g3,Nc3,Nxc3,dxc3,Bxc3,O-O,Qd2,Re8+,Be2,Bg4,Kd1,Bxe2+,Qxe2,Rxe2,Kxe2,Qe7+,Kd2,Nd7,Rhe1,Ne5,Re3,Rc8,f4,c5,fxe5,cxb4,exf6,Qc5,Bxb4,Qxc2+,Ke1,gxf6,Bd2,Qb2,Rd1,Qxa3,d4,Qd6,Bc3,Qd5,Kf2,Qf5+,Kg2,Qc2+,Rd2,Qa4,Rde2,Rc4', 'Re8+,Qxe8,Rxe8+,Kf7,Re3', 'https://lichess.org/training/PIkPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PIlMu', 'Rapid', 'Dorftrottel', 1794, 'steili', 1863, 'Nf3,Nf6,d4,g6,c4,Bg7,Nc3,d6,Bg5,O-O,Bxf6,Bxf6,e3,c5,Be2,cxd4,exd4,Nc6,O-O,b6,Ne4,Bg7,Rc1,Bb7,d5,Ne5,b3,e6,Nxe5,Bxe5,Nc3,Re8,Bf3,Qh4,g3,Qd8,dxe6,Qe7,exf7+,Qxf7,Bxb7,Qxb7,Nd5,Qg7,Qg4,Kh8,f4,Bd4+,Kg2,h5,Qf3,Re6,Rcd1,Bc5,f5,Rf8,Qd3,gxf5,Nf4,Re3,Qd5,h4,Ne6,Rxg3+,hxg3', 'Qxg3+,Kh1,Qh3#', 'https://lichess.org/training/PIlMu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PIMuJ', 'Rapid', 'AleksandrValent', 2052, 'Bogi62', 2156, 'c4,c5,Nf3,Nf6,d4,cxd4,Nxd4,Nc6,Nc3,g6,g3,Bg7,Bg2,O-O,O-O,Qb6,Nxc6,dxc6,Qc2,Be6,b3,Rfd8,Bb2,Rd7,Rad1,Rad8,Rxd7,Rxd7,Rd1,Qd8,Rxd7,Qxd7,Qd1,Bg4,f3,Bh3,Bxh3,Qxh3,Qd8+,Bf8,Ba3,Qd7,Bxe7', 'Qxe7,Qxe7,Bxe7', 'https://lichess.org/training/PIMuJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PimY8', 'Blitz', 'FM Mauerspecht', 2426, 'andrzejwuj94', 2344, 'd4,d5,c4,e6,Nf3,Nf6,g3,h5,Bg2,Nc6,O-O,Bd6,Nc3,Ne4,cxd5,Nxc3,bxc3,exd5,e4,dxe4,Ng5,f5,Qb3,Qe7,Bf4,h4,Rfe1,hxg3,hxg3,Bxf4,gxf4,Bd7,Bxe4,O-O-O,Bxc6,Bxc6,d5,Bxd5,Rxe7', 'Rh1#', 'https://lichess.org/training/PimY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PInBi', 'Rapid', 'yoni43', 1758, 'roryG1997', 1740, 'c4,e5,Nc3,f5,g3,Nf6,Bg2,Bc5,e3,f4,exf4,exf4,d4,Bb6,Bxf4,O-O,Nge2,c6,O-O,d5,Bg5,dxc4,d5,cxd5,Bxd5+,Kh8,Ne4', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/PInBi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pInxB', 'Rapid', 'insanityrains', 1759, 'c1ockw0rk', 1725, 'e4,c6,d4,d5,e5,Bf5,f4,e6,Nf3,Nd7,Bd3,Bxd3,Qxd3,c5,Qb5,Rb8,O-O,a6,Qa4,b5,Qxa6,cxd4,Nxd4,Bc5,c3,b4,Kh1,bxc3,bxc3,Ne7,Ba3,Bb6,Bxe7,Qxe7,Nc6,Nc5,Qxb6,Rxb6,Nxe7,Kxe7,a4,Ra8,a5,Rba6,Nd2,Rxa5,Rxa5,Rxa5,g3,Ra4,Rb1,Ra2,Nb3,Nxb3,Rxb3,Ra7,Kg2,Kd7,Kf3,Kc6,f5,Ra4,fxe6,fxe6,h4,Kc5,Ke3,Re4+,Kd3,Rg4,Ra3,Rxg3+,Kc2,Kb5', 'c4+,Kxc4,Rxg3', 'https://lichess.org/training/pInxB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('piPS2', 'Rapid', 'fabioloso', 1838, 'Dmitry__Pskov', 1833, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Bc5,O-O,f6,c3,Be6,d4,exd4,cxd4,Bb6,e5,Ba5,Bd2,Bb6,Bc3,Bd5,exf6,Nxf6,Re1+,Kd7,Ne5+,Kc8,Nd2,Kb8,Ndc4,Bxc4,Nxc4,Ka7,Nxb6,Kxb6,Qb3+,Ka7,Rad1,Nd5,Bb4,Qf6,Bc5+,b6,Ba3,Rae8,Qa4,Kb7,b4,Rxe1+,Rxe1,Qxd4,Qb3,Qf6,Bb2,Qg6,a4,Qf7,b5,axb5,axb5,cxb5,Qxb5,Ne7,Qe5,Nc6,Qxg7,Qxg7,Bxg7,Rg8,Bh6,Rg6,Bf4,b5,Rb1,Ka6,Bxc7,Nd4,Be5', 'Nf3+,Kh1,Nxe5', 'https://lichess.org/training/piPS2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PIPsn', 'Rapid', 'Farouk1975', 1856, 'Mentistemmoswotenos', 1960, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,Be7,h3,Nc6,a3,Bf5,e3,Qd7,Nf3,O-O-O,Bd3,h6,Bxf6,Bxf6,Qc2,Bxd3,Qxd3,Rhe8,O-O,g5,Rae1,Rg8,Nh2,h5,f3,Rde8,g4,hxg4,fxg4,Qe6,Qf5,Qxf5,Rxf5,Bxd4,Nxd5,Bxb2,Rxf7,Be5,Nf3,Bd6,Nf6,Ref8,Nxg5,Rxg5,Rxf8+,Bxf8,Nh7,Rg8,Nxf8,Rxf8,h4,Kd7,h5,Ke6,Kh2,Ne5,Kg3,Kf6,Rf1+,Kg7', 'h6+,Kxh6,Rxf8', 'https://lichess.org/training/PIPsn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PiPX6', 'Rapid', 'mikekrott', 1837, 'daskas9', 1896, 'b3,d5,Bb2,Nf6,e3,a6,Nf3,Nc6,c4,Bg4,h3,Bh5,g4,Bg6,d4,e6,Bg2,Bb4+,Bc3,Bxb1,Bxb4,Be4,Bd2,O-O,O-O,h6,a3,Nh7,Nh2,Qh4,Bxe4,dxe4,f4,Qxh3,Qe1,Nf6,Qe2,h5,g5,Ng4,Nxg4,hxg4,Qg2,Qxg2+,Kxg2,f5,Kg3,g6,Rh1,Kg7,Bc3,Ne7,d5+,Kf7,Rh7+,Ke8,Bb4,Rf7,Rh8+,Rf8,Rah1,Kd7,dxe6+,Kxe6,R8h7,Rf7', 'Rxf7,Kxf7,Rh7+,Kg8,Rxe7', 'https://lichess.org/training/PiPX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PiqJ8', 'Rapid', 'Fokuskekse', 1994, 'opa1967', 2078, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Bg5,d6,a3,Bxc3+,bxc3,Qe7,f3,h6,Bh4,Qe5,Bc4,O-O,O-O,Nh5,Rb1,Nf4,Bg3,Qg5,Rb5,Qf6,Qd2,Ng6,f4,a6,Rb2,b5,Bxf7+,Qxf7,Nxc6,Bb7,Qd5,Qxd5,exd5,Bxc6,dxc6,Ne7,c4,Nxc6,cxb5,axb5,Rxb5,Rxa3,Rb7,Ra7,Rxa7,Nxa7,Rb1,Rc8,Rb7,Nc6,Be1,Nd4,Ba5,Nxc2,Rxc7,Rxc7,Bxc7,d5,Kf2,Nb4,Ke3,Kf7,Kd4,Ke6,g3,Nc6+,Kc5,d4', 'Kxc6,d3,Ba5', 'https://lichess.org/training/PiqJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PiQor', 'Rapid', 'WinterWood', 1916, 'SOUMYADEEPgambit', 2036, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,exd5,Bg5,Be7,Nf3,O-O,e3,Bg4,h3,Bh5,Qb3,b6,Ne5,c6,Bd3,Nfd7,Bf4,Nxe5,Bxe5,Nd7,Bh2,Nf6,O-O,c5,dxc5,bxc5,Bb5,c4,Qa4,a6,Bc6,Ra7,Nxd5', 'Nxd5,Rad1,Bxd1', 'https://lichess.org/training/PiQor');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PiqrE', 'Blitz', 'Ocinitram', 2306, 'biagiobiagin92', 2340, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Qe2,b5,Bb3,Bc5,c3,d6,O-O,O-O,Rd1,h6,d3,Bg4,h3,Bh5,Nbd2,Bb6,Nf1,Re8,Ng3,Bg6,Nh4,Bh7,Nhf5,Ne7,Nxh6+,gxh6,Qf3,Kg7,Bxh6+,Kxh6,Qxf6+,Bg6,Bxf7,Rf8', 'Nf5+,Nxf5,Qxg6#', 'https://lichess.org/training/PiqrE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PIRNo', 'Rapid', 'KARitter', 1925, 'Labyrinthos', 1669, 'd4,Nf6,c4,d6,Nc3,g6,Nf3,Bg7,e4,O-O,Be3,Re8,h3,Nbd7,Be2,e5,d5,Nc5,Bd3,a6,O-O,Rb8,b4,Ncd7,Qd2,c5,a3,b6,Bh6,Qc7,Bxg7,Kxg7,Ng5,Nf8,f4,Nh5,fxe5,Re7,exd6,Qxd6,e5,Qxe5,Rae1,Qd4+,Kh1,Rxe1,Rxe1,Bf5,Re7,Qxd3,Rxf7+,Kg8,Qxd3,Bxd3,bxc5,h6,Rf3,Bxc4,cxb6,Rxb6,Nce4,Rb1+,Kh2,Rd1,g4,Bxd5,gxh5,Bxe4,Nxe4,gxh5,Nf6+,Kg7,Nxh5+,Kg6,Nf4+,Kg5,Nh5,Ne6,Ng3,Rd2+,Kg1,Nd4', 'Ne4+,Kh4,Nxd2,Nxf3+,Nxf3+', 'https://lichess.org/training/PIRNo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PISfy', 'Blitz', 'SuccessChessLady', 1800, 'Swissman', 1875, 'd4,d5,g3,c6,Bg2,Bf5,Nf3,Nd7,O-O,Ngf6,Ne5,Nxe5,dxe5,Nd7,Qd4,e6,a3,Bc5,Qf4,Qc7,b4,Be7,Bb2,O-O,Re1,h6,e4,dxe4,Bxe4,Bxe4,Qxe4,Nb6,c4,Rad8,c5,Nd5,Nd2,Rd7,Nc4,Rfd8,Nd6,b6,Rab1,bxc5,bxc5,Qa5,Re3,Qxc5,Rf3,Bxd6,exd6,Qxd6,Qd4,f6,Qg4,e5,Rd1,Qb8,Ba1,Nf4,Rxd7', 'Qb1+,Rd1,Qxd1#', 'https://lichess.org/training/PISfy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pitep', 'Classical', 'petri999', 1832, 'evzen52', 1833, 'c4,e5,Nc3,c6,Nf3,d6,e3,Nf6,d4,e4,Nd2,d5,Be2,Bd6,h3,Be6,O-O,Bc7,cxd5,cxd5,Nb3,Qd6,g3,Bxh3,Nb5,Qd7,Nxc7+,Qxc7,Re1,Bg4', 'Bxg4,Nxg4,Qxg4', 'https://lichess.org/training/Pitep');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pityp', 'Classical', 'qeti2006', 1833, 'Karamba66', 1999, 'd4,Nf6,c4,e6,Nf3,b6,Bg5,h6,Bh4,Bb7,e3,g5,Bg3,Ne4,Bd3,h5,h3,Nxg3,fxg3,Bd6,Nc3,Bxg3+,Ke2,Nc6,Ne4,Bd6,Nexg5,Qe7,g4,O-O-O,Ne4,Rdf8,d5,exd5,cxd5,Ne5,Nxe5,Bxe5,Qd2,Bxd5,Ba6+,Bb7,Bxb7+,Kxb7,Qd5+,c6,Qd3,d5,Nc3,d4,Ne4,dxe3,Qxe3,Bxb2,Rab1,Ba3,Rb3,Bd6,Rd1,Bc7', 'Nc5+,Qxc5,Qxc5', 'https://lichess.org/training/pityp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PiuhQ', 'Classical', 'tman2nd', 1768, 'sebkiteff', 1756, 'd4,Nf6,Bf4,d5,e3,Bf5,c4,c5,dxc5,Qa5+,Nc3,e6,cxd5,Nxd5,Bb5+,Nc6,Bxc6+,bxc6,Qd4,O-O-O,Qe5,Bxc5,Qb8+,Kd7,Qb7+,Ke8,Qxc6+,Kf8,O-O-O,Nxc3', 'Rxd8+,Qxd8,Qxc5+', 'https://lichess.org/training/PiuhQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PIUUB', 'Rapid', 'CUl8rr', 1830, 'Kdsk2009', 1876, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Bf5,Bd3,Bg6,Nf3,e6,O-O,c6,Bxg6,hxg6,Ne2,Nf6,Ng3,Nd5,c3,Bd6,Qe2,Nd7,Ne5,Qe7,f4,O-O-O,a4,Qh4,Nxf7,Qxh2+,Kf2,Rh3,Nxd6+,Kb8,Qf3,N7f6,Rh1,Qxh1,Nxh1,Rxf3+,gxf3,Rxd6,Bd2,Rd8,Re1,Rh8,Ng3', 'Rh2+,Kf1,Rxd2', 'https://lichess.org/training/PIUUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('piUwk', 'Classical', 'Besagno', 1736, 'alexhualex', 1654, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,Nc3,Nf6,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Kg2,Qf6,d3,O-O-O,Bg5', 'Bxf3+,Qxf3,Qxg5+', 'https://lichess.org/training/piUwk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pIUx7', 'Blitz', 'Alexander_chile', 1504, 'jose1992', 1510, 'e4,Nc6,d4,e6,f4,b6,Nf3,Nf6,Bd3,Bb7,c4,Qe7,e5,Ng4,h3,Nh6,O-O,Nf5,d5,exd5,Bxf5,Qc5+,Kh1,Qxc4,Nc3,O-O-O,Nxd5,Nb4,Nxb4,Bxb4,a3,Bc5,Bd2,g6,Be4,Bxe4,b4,Bd4,Rc1,Qd3,Nxd4', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/pIUx7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PiWw0', 'Rapid', 'Rolo2018', 1686, 'Mohamma87', 1680, 'd4,e6,Bf4,h6,e3,d5,Nf3,a6,Bd3,f6,h3,Ne7,Nbd2,Nbc6,c3,e5,dxe5,fxe5,Nxe5,Nxe5,Bxe5,Bf5,Bxf5,Nxf5,Nf3,Be7,Nd4,Nxd4,exd4,O-O,O-O,Bf6,Qh5,Bxe5,Qxe5,c6,Rae1,Qh4,Qc7,Rf7,Qd6,Raf8,Re2,Rf6,Qh2,Qh5,g4,Qg5,Re5,Qd2,Re7,Rxf2', 'Rxf2,Qc1+,Kg2,Rxf2+,Kxf2', 'https://lichess.org/training/PiWw0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PixeR', 'Rapid', 'Adi_PercasiCMS', 1951, 'aleks67291913', 2001, 'e4,g6,d4,Bg7,c4,d6,f4,Nf6,Nc3,O-O,Nf3,b6,Bd3,Bb7,O-O,Nbd7,h3,e6,e5,dxe5,fxe5,Nh5,Be3,Rc8,Qe1,Bh8,Bh6,Re8,g4,Ng7,Bg5,f6,exf6,Nxf6,Ne5,Rf8,Qe3,Nge8,Rf2,c5,dxc5,Rxc5,Raf1,Rxe5,Qxe5,Qxd3,Qxe6+,Rf7,Bxf6', 'Qg3+,Rg2,Qxg2#', 'https://lichess.org/training/PixeR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('piXGz', 'Rapid', 'LUZMARINAYNGA', 1831, 'Irasema', 1777, 'd4,e6,Nf3,d5,e3,Nc6,Bd3,Be7,a3,Nf6,b3,Bd7,Bb2,h6,Nbd2,Bd6,Ne5,O-O,O-O,Nh7,f4,Bxe5,fxe5,Qg5,Qe2,f6,exf6,Rxf6,Bxh7+,Kxh7,Rxf6,Qxf6,Rf1,Qg6,c4,Re8,c5,a6,Nf3,Rf8,Ne5,Rxf1+,Qxf1,Nxe5,dxe5,Bb5,Qc1,Qd3,Bd4,c6,b4,Qe2,h3,Qd3,Kh2,Qe4,Qd2,Qf5,Qd1,Qe4,a4,Bc4,Qe1,Qd3,Qf2,Qb3,Qf7,Qxa4,Qxb7,Bb5,Qe7,Qxb4,Qxe6,Qd2,Qf7,Qd3,e6,Qg6,Qd7', 'Bf1,Qxg7+,Qxg7,Bxg7,Kxg7', 'https://lichess.org/training/piXGz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PixJv', 'Blitz', 'dart7272', 2133, 'Povaljaev', 2121, 'e4,e5,Nf3,Nc6,d3,Be7,Nbd2,d6,c3,f5,Be2,f4,d4,Nf6,dxe5,dxe5,Nc4,Qxd1+,Bxd1,Bd6,Nxd6+,cxd6,Bc2,Bg4,Nd2,O-O-O,f3,Be6,b4,g5,b5,Ne7,c4,h5,Ba3,g4,O-O-O,Kc7,Nb3,Bxc4,Na5,Bxb5,Bb3,b6,Nc4,Bxc4,Bxc4,Nc6,Be6,Nd4,Bc4,b5,Bf7,gxf3,gxf3,Nxf3,Kb2,Nd4,Rc1+,Kb6,Rhg1,f3,Rg6,Nxe4,Bd5,Nd2,Bc5+,Ka5,Bxd6,Rxd6,Rxd6,f2,Bb7,f1=Q', 'Ra6+,Kb4,a3#', 'https://lichess.org/training/PixJv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PiyZE', 'Blitz', 'PhoenixRebornAshes', 2578, 'IM ChessFromMars', 2514, 'd4,e6,c4,d5,Nf3,c6,g3,f5,b3,Nf6,Bg2,Bd6,O-O,O-O,Ba3,Ne4,Bxd6,Qxd6,Ne5,Nd7,Nxd7,Bxd7,f3,Nf6,Nc3,c5,cxd5,exd5,Kh1,Rac8,Rc1,f4,gxf4,Qxf4,dxc5,Rxc5,e4,Rfc8,Ne2,Rxc1,Nxf4,Rxd1,Rxd1,dxe4,fxe4,Bg4,Re1,Nh5,Nd5,Rc2,e5,Be6,Rf1,g6,a3,Rxg2', 'Ne7+,Kg7,Kxg2', 'https://lichess.org/training/PiyZE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PiYzi', 'Classical', 'thegreat8', 1667, 'Katsjo', 1659, 'e4,e5,Nf3,d6,Bc4,Qe7,d3,Be6,Bxe6,Qxe6,Ng5,Qd7,O-O,Be7,Nc3,Nc6,Nd5,Bxg5,Bxg5,h6,Be3,f5,Qh5+,Kd8,exf5,Nge7,Nxe7,Nxe7,g4,b6,b3,Kc8,a4,Kb7,a5,Rag8,a6+,Kb8,f4,g6,fxg6,Nxg6,f5,Ne7,c4,Rh7,Rf3,Rf7,Kh1,Qc6,Rf1,Rfg7,f6,Rf8,fxe7,Rxe7,Kg2,Ref7,Qh3,Rg8,Kg1,Rxf3,Rxf3,h5,Kf1,hxg4,Qg3', 'Qxf3+,Qxf3,gxf3', 'https://lichess.org/training/PiYzi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PJ0B0', 'Rapid', 'hansip', 2123, 'FourierTransformatie', 2335, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e4,d6,Be2,e5,dxe5,dxe5,Qxd8,Rxd8,Bg5,Re8,Nb5,Na6,Nd2,Nd7,f3,Bf8,a3,Ndc5,b4,Ne6,Bf6,c6,Nc3,Nd4,Bd3,Re6,Bh4,Rd6,Bb1,Bg7,c5,Re6,Nc4,Bf8,Kf2,Kg7,Rd1,Nc7,Ba2,Re8,Rac1,Be6,Nxe5,Nb3,Bxb3,Bxb3,Ng4,Bxd1,Bf6+,Kg8,Rxd1,Bg7,Rd7,Rac8,e5,b6,Ne4,Nb5,Nd6,Nxd6,exd6,h5,Bxg7,Kxg7,Ne3,bxc5,bxc5,Rb8,Nc4,Rb1,Rxa7,Rc1,Ra4,Rc2+,Kg3,Ree2,Kf4,Kf6,h4,Rxg2,d7,Ke7,Ne3,Rh2,Nxc2', 'Rxh4+,Ke3,Rxa4', 'https://lichess.org/training/PJ0B0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pj0n7', 'Rapid', 'darkalot', 1781, 'And64', 1716, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,Bd3,c4,Be2,Nf6,Nc3,Nc6,Bf4,a6,O-O,Bb4,Re1,O-O,a3,Bxc3,bxc3,Bg4,h3,Bh5,Ne5,Re8', 'Bxh5,Nxh5,Qxh5', 'https://lichess.org/training/Pj0n7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJ1Hk', 'Rapid', 'Testing777', 1783, 'isio', 1780, 'd4,d5,c4,dxc4,Nc3,e6,e3,a6,Bxc4,b5,Bd3,Nc6,Qc2,Nb4,Qd2,Bb7,e4,Qxd4,Ke2,Nf6', 'Bxb5+,axb5,Qxd4', 'https://lichess.org/training/pJ1Hk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJ2GL', 'Rapid', 'Isatis34', 2102, 'ivanlobanov', 1992, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,a4,a6,Na3,Be6,Bg5,Be7,Bc4,O-O,O-O,Nd4,Bxf6,Bxf6,Bd5,Qd7,Nc4,Qc7,a5', 'Bxd5,Nxd5,Qxc4', 'https://lichess.org/training/pJ2GL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJ2hj', 'Rapid', 'Johan153', 1889, 'trevius', 1752, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,e6,Nf3,Nf6,Bd3,Be7,O-O,Nbd7,c3,Nb6,Qc2,g6,Bg5,Nxe4,Bxe7,Qxe7,Bxe4,Nd5,a3,O-O,c4,Nf6,Bd3,b6,Ne5,Bb7,Rad1,Rfd8,Qc3,Nh5,g3,Qg5,Qd2,Qxd2,Rxd2,Rxd4,Rc2,Rad8,Be2,c5,Bxh5,gxh5,Rc3,f6,Nf3,Rd3,Rxd3,Rxd3,Nh4,Kf7,f4,Ba6,Rc1,Rd2,b3,Bb7,h3,e5,Nf5,Rg2+,Kf1,Kg6', 'Nh4+,Kf7,Nxg2', 'https://lichess.org/training/pJ2hj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJ2rH', 'Rapid', 'MrXuister', 1699, 'captain3314', 1833, 'd4,Nf6,e3,e6,c4,c5,Nc3,cxd4,exd4,Bb4,Nf3,O-O,a3,Qa5,Bd2,Bxc3,Bxc3,Qc7,Bd3,Nc6,O-O,d5,Qc2,dxc4,Bxc4,b6,Bd3,h6,Rae1,Bb7,d5,Nxd5,Bh7+,Kh8,Bxg7+,Kxg7,Qe4,Qf4,Qd3,Rad8,Re4,Nf6', 'Rxf4,Rxd3,Bxd3', 'https://lichess.org/training/pJ2rH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pj35B', 'Rapid', 'RipeMango', 1773, 'ShumS', 1756, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,Bg5,Nd7,Qd5,e6,Qb5,a6,Bxd8,axb5,Bxe6,fxe6,Bc7,Ra6,Nc3,b4,Nb5,Rc6,O-O-O,Rc5,Nxd6+,Bxd6,Bxd6,Rc4,Rhe1,b6,b3,Rc6,Bxb4,Bb7,Rd2,Nc5,Red1,O-O,Bxc5,Rxc5,f3,Rfc8,Rd7,Rxc2+,Kb1,Ba6,Rd8+,Rxd8', 'Rxd8+,Kf7,Kxc2', 'https://lichess.org/training/Pj35B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pj6rZ', 'Rapid', 'warmoth', 1787, 'FaiveLM', 1670, 'e4,e5,Nf3,Nc6,d4,exd4,c3,d5,e5,Be7,cxd4,Bg4,Be2,f6,Nh4,Bxe2,Qxe2,Nxd4,Qh5+,g6', 'Nxg6,hxg6,Qxh8', 'https://lichess.org/training/pj6rZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJ79n', 'Rapid', 'charmm2015', 2005, 'alfred1959', 1946, 'f4,d5,d4,Nf6,e3,e6,Nf3,c5,c3,cxd4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,Ne4,Bb2,Qa5,Qc2,Nd7,Bd3,Ndf6,O-O,Bd7,Ne5,Bb5,c4,Bxc4,Bxc4,dxc4,Nxc4,Qf5,Rad1,O-O,Ne5,Rfc8,Qb3,Nd5,h3,Ng3,Rfe1,Qc2,Qxb7,Rab8,Qxf7+,Kh8,Ba3,Ne2+,Kh1,Nxe3,Qxe6', 'Ng3+,Kg1,Qxg2#', 'https://lichess.org/training/pJ79n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pj8b4', 'Rapid', 'devon-gawley', 1794, 'raphaelrbj', 1779, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,e6,Bg5,Nf6,O-O,Be7,Bxf6,Bxf6,Rc1,O-O,Re1,a6,e5,Nxe5,Nxe5,Bxe5,Bd3,Bd7,Qh5,h6,Re3,Bxc3,bxc3,Bb5,Rd1,Qf6,Rf3,Qxc3', 'Bh7+,Kxh7,Rxc3', 'https://lichess.org/training/pj8b4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pj9ED', 'Rapid', 'Fantomaxx', 1732, 'meosch', 1660, 'e4,c5,d4,cxd4,c3,d3,Bxd3,Nc6,Bc4,e6,Nf3,Be7,O-O,d6,Re1,Nf6,e5,dxe5,Nxe5', 'Qxd1,Rxd1,Nxe5', 'https://lichess.org/training/pj9ED');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PjaFe', 'Blitz', 'Alcybiad', 2309, 'FM Cellini', 2459, 'd4,Nf6,Bg5,d5,Bxf6,exf6,e3,f5,g3,c6,Bg2,Nd7,Ne2,Nf6,O-O,Bd6,b3,O-O,c4,Be6,Qd3,Ne4,Nbc3,Qa5,a3,Qa6,Rfd1,dxc4,bxc4,Bxc4,Qc2,Nxc3,Nxc3,g6,e4,fxe4,Nxe4,Be7,g4,Bd5,Re1,Rfe8,Qd2,Bxe4,Bxe4,Bf6,Rab1,Rad8,d5,cxd5,Bxd5,Rxe1+,Rxe1,Qd6,Rd1,Qe5,f3,Kg7,Qd3,Qf4,Qe4,Qxe4,fxe4,b6,Rc1,Rd7,a4,Be5,Kg2,Rc7,Rxc7,Bxc7,h3,Be5,Kf3,a6,Bc4,b5,axb5,axb5,Bxb5,Kf6,Bc4,Ke7,Bd5,f6,Bg8,h6,Bh7', 'Kf7,h4,Kg7,Bxg6,Kxg6', 'https://lichess.org/training/PjaFe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PJBKY', 'Rapid', 'packtruck', 1664, 'Arcijo', 1686, 'e4,c5,d3,d6,Nf3,Nf6,Be2,g6,O-O,Bg7,Nc3,e6,Bg5,O-O,e5,dxe5,Nxe5,Qd6,Nc4,Qd7,Ne5,Qc7,Ng4,Nbd7,Nb5,Qb6,Nxf6+,Nxf6,Nc3,Qxb2,Ne4,b6,Nxf6+,Bxf6,Bh6,Re8,Bf3,Qxa1,Bxa8,Qxd1,Rxd1,Bd7,Bb7,Ba4,Rc1,Rd8,Be4,Bc3,f4,f5,Bf3,Bd4+,Kh1,Be3,Re1,Bd2,Rxe6,Bxc2,Re5,Bxd3,Bd5+,Kh8,Bb3,Bb5,Re7,Re8', 'Bg7#', 'https://lichess.org/training/PJBKY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PjC15', 'Blitz', 'swastik2011', 1933, 'radha2010', 1570, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,e6,a3,c6,Nf3,Nf6,Bd2,Be7,Bd3,Nbd7,O-O,O-O,Re1,Qc7,Ne4,Nxe4,Rxe4,Nf6,Rh4,h6,Bf4,Qb6,Rb1,Nd5,Rg4,e5,Nxe5,Bxg4,Qxg4,Qxd4,Qf5,Nf6,Be3,Qd5,c4,Qd6,Ng4,Qe6', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/PjC15');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJDHU', 'Classical', 'ShyamD', 1747, 'Fazalkhan1', 1769, 'e4,a5,d4,e6,Nf3,Nf6,e5,Nd5,Be2,Bb4+,c3,Be7,O-O,d6,c4,Nb4,a3,N4a6,Bd2,dxe5,Bxa5,exd4,Nxd4,O-O,Bc3,Bd6,Nd2,Qh4,N2f3,Qe7,Re1,e5,Bd3,c5,Nb5,f6,Nh4,g5,Nf5,Bxf5,Bxf5,Rd8,Qh5,Nc6,Rad1,Nc7,Nxd6,Rxd6,Rxd6,Qxd6,Qxh7+,Kf8,Qh6+,Ke8,Qh5+,Kd8,Rd1,Nd4,Qh8+,Ne8,Bg6', 'Ne2+,Kf1,Qxd1+', 'https://lichess.org/training/pJDHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pjdsu', 'Blitz', 'oeter', 1667, 'frankenstein68', 1921, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qa5,d4,Bg4,Bd2,O-O-O,h3,Qh5,Be2,Bxf3,Bxf3,Qg6,Bxc6,bxc6,O-O,e5,Qf3,exd4,Na4,f5,Bf4,Bb4,c3,dxc3,bxc3,Ba5,Rab1,Qf6,Rb3,Ne7,Rfb1,g5,Qd3,Rxd3', 'Rb8+,Kd7,Nc5#', 'https://lichess.org/training/pjdsu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJEk1', 'Rapid', 'NaseRR1', 1728, 'Alexanderog', 1674, 'e4,c6,Nc3,d5,exd5,cxd5,Nf3,Bg4,d3,e6,a3,Nf6,Bg5,Be7,Qd2,Nc6,O-O-O,a6,Kb1,Qb6,h3,Bxa3,Na4,Qb5,hxg4,Qxa4,bxa3,Qxa3,Bxf6,gxf6,g5', 'Nb4,c3,Qb3+,Qb2,Qxd1+', 'https://lichess.org/training/pJEk1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJF1n', 'Rapid', 'tukipenda', 2158, 'Shakes', 2116, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bc4,Ngf6,Qe2,e6,Bg5,Be7,O-O-O,O-O,Kb1,a5,g4,a4,f4,a3,Bxf6,Nxf6,Nc5,Qb6,Nb3,axb2,g5,Nd5,Bxd5,cxd5,c3,Bd7,Qxb2,Rfc8,Nf3,Qc7,Ne5,Ba3,Qc2,Ba4,Rd3,b5,Rh3,g6,Ng4,b4,Nf6+,Kf8,Rxh7,bxc3,Re1,Rab8,Rh8+,Ke7', 'Nxd5+,Kd6,Nxc7', 'https://lichess.org/training/pJF1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJGJ4', 'Classical', 'PETROS9N', 1892, 'eliotas', 1712, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,Be2,Nc6,O-O,Be7,f4,O-O,Bf3,exf4,Bxf4,Ne5,Qe1,Nxf3+,Rxf3,Rc8,Rd1,Qb6+,Kh1,Bg4,Be3,Qc7,Rd2,Bxf3,gxf3,Rfe8,Qg1,Kh8,Rg2,g6,Nd5,Nxd5,exd5,Bf6,Bh6,Qe7,Nd4,Qe1,c3,Qxg1+,Rxg1,Bxd4,cxd4,Rc2,a4,Ree2,Bf4,Rxb2,Rc1,Rbc2,Rb1,Rb2,Rc1,Kg7,Bxd6,Re8,Bg3,Rd8,d6,Rd2,Rc4,Kf8,Bf4,Rd3,Kg2,Ke8,Be5,f6,d7+,Rxd7,Bxf6,Kf7,Be5,Ke6,Kg3,Kf5,Bh8,h5,h4,Ke6,Rb4,Kd5,Rb6,Rd8,Be5,Rd1,Rxb7,Re8,Rb6,Re6,Rb7,Kc6,Rc7+,Kb6,Rc5,Ra1,a5+,Rxa5', 'Bc7+,Kb7,Bxa5', 'https://lichess.org/training/pJGJ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PJhGR', 'Rapid', 'Ahmed_libya', 1880, 'elira', 1840, 'e4,c5,d3,Nc6,Nd2,g6,Ngf3,Bg7,g3,Nf6,Bg2,b5,O-O,c4,d4,O-O,c3,d6,a4,b4,e5,dxe5,Nxe5,bxc3,Nxc6,Qc7,bxc3,Bb7,Ne5,Bxg2,Kxg2,Nd5,Ndxc4,Nxc3,Qd3,Bxe5,Nxe5,Qb7+,Kg1,Rac8,Bh6,Rfd8,Rfc1,Qb2,Nc4,Rxc4,Qxc4,Ne2+,Kf1,Nxc1,Rxc1,e5,Qd5', 'Qxc1+,Bxc1,Rxd5', 'https://lichess.org/training/PJhGR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PJiFK', 'Classical', 'tedxfra', 1637, 'OMW2FYQ', 1624, 'e4,c5,Bc4,e6,Bb3,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Nf6,Nc3,b6,f3,Be7,Nb5,Na6,Bf4,O-O,c3,Bd7,Bc4,Bxb5,Bxb5,Nb8,Kc2,a6,Bd3,Rd8,Rd1,Bd6,e5,Nh5,Bg5,f6,Be4,fxg5,Rxd6,Rxd6,exd6,Ra7,Nh3,Rd7,Rd1,h6,g4,Nf6,Bg6,Nd5,Be8,Rxd6,Re1,Kf8,Bg6,Ne7,Bd3,b5,b3,Nbc6,f4,gxf4,Nxf4,e5,Nh3,Re6,Nf2,Nd5,Ne4,c4,bxc4,bxc4,Bxc4,Nce7,Nc5,Rc6,Nd7+,Ke8,Nxe5,Rc5,Ng6', 'Rxc4,Nxe7,Nxe7', 'https://lichess.org/training/PJiFK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PjiJK', 'Bullet', 'venomrapture', 1963, 'Ayudh', 1821, 'b3,d5,e3,e5,Nf3,Bd6,Be2,Nf6,h3,c5,a4,Nc6,Bb2,Qe7,g4,h6,Bb5,Bd7,Nc3,d4,exd4,cxd4,Ne2,O-O,g5,hxg5,Nxg5,Nd5,Rg1,g6,Ne4,Bb4,Bc4,Nf4,Nxf4,exf4', 'Rxg6+,Kh7,Qh5#', 'https://lichess.org/training/PjiJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PjiwF', 'Classical', 'Knightblindness', 1654, 'patcroy', 1646, 'e4,c5,c3,d6,g3,Nf6,Qe2,Bg4,f3,Bh5,h4,Nfd7,g4,Bg6,h5,Bxe4,fxe4,Nc6,d3,e6,Nh3,h6,a3,Ke7,c4,Nd4,Qd1,Ne5,Bg2,g6,Nd2,g5,Nb3,Ndc6,Nf2,Bg7,Bd2,Re8,Na5,Nxa5,Bxa5,Qxa5+,b4,Qc7,b5,b6,Ra2,Nc6,bxc6,Qxc6,a4,Bd4,a5,d5,exd5,exd5,Bxd5,Kf8+,Ne4,Qd7,Bxa8,Rxa8,Qf3,Re8,Rf1,Bc3+,Kd1,Re7,Nf6,Bxf6,Qxf6,Qxd3+,Rd2', 'Qb1#', 'https://lichess.org/training/PjiwF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PJJ3r', 'Rapid', 'MattyB', 1620, 'codagirl', 1616, 'd4,Nf6,Bf4,g6,Nf3,Nc6,c4,d5,e3,Bg7,Nc3,O-O,Be2,Bg4,O-O,Bxf3,Bxf3,dxc4,Qa4,Qd7,Qxc4,Rfe8,Rac1,Rab8,Rfe1,Na5,Qd3,b6,h3,c5,Bxb8,Rxb8,d5,Re8,a4,e6,e4,c4,Qd2,Nb3,Qd1,Nxc1,Qxc1,exd5,exd5,Rxe1+,Qxe1,a6,Qe2,b5,axb5,axb5,Qd2,h6,g3,Nh7,Kh2,Ng5,Bg4', 'Qxg4,hxg4,Nf3+,Kg2,Nxd2', 'https://lichess.org/training/PJJ3r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJj8e', 'Classical', 'aplause', 1731, 'jrvdwjr', 1757, 'd4,Nf6,c4,d5,cxd5,Nxd5,Nf3,Bg4,Ne5,Bh5,Qb3,Nb6,g4,Bg6,h4,Qxd4,Nxg6,hxg6,Bg2,Nc6,Qb5,O-O-O,Nc3,Qxg4', 'Bh3,Rxh4,Bxg4+', 'https://lichess.org/training/pJj8e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PjJhc', 'Bullet', 'Krov9kin', 2150, 'iksniark66', 2212, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,a3,d6,h3,Kh8,Ng5,Qe8,f4,h6,Nf3,exf4,Bxf4,Nh5,Bh2,f5,Nc3,fxe4,Nxe4,Bf6,c3,Qg6,Kh1,Bd7,Qd2,Ne5,Nxe5,Bxe5,Bxe5,dxe5,Qe3,Bc6,Kh2,Nf4,g3,Nh5,Nc5,Rae8,Rf2,Rxf2+,Qxf2,Kh7,Re1,Rf8,Qe3,Qf6,Ne6', 'Qf2+,Qxf2,Rxf2+,Kg1,Rg2+,Kf1,Nxg3#', 'https://lichess.org/training/PjJhc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pjlrA', 'Bullet', 'IM TacticalMaster', 2391, 'LeonArgentina', 2012, 'h4,h5,g3,g6,Bg2,Nf6,a4,Bg7,a5,b6,a6,Nxa6,Bxa8,c6,c3,Qc7,b4,Qb8,b5,Nc5,d4,Nce4,f3', 'Qxg3+,Kf1,Qf2#', 'https://lichess.org/training/pjlrA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pjLv9', 'Blitz', 'pieceplay', 2063, 'Artorius__Castus', 2053, 'd4,Nf6,c4,c5,dxc5,Qa5+,Nc3,Qxc5,e3,e6,Nf3,a6,b3,b5,Bb2,bxc4,Bxc4,Bb7,O-O,Be7,Rc1,Qh5,Nd4,Qg5,Nf3,Qg4,Be2,O-O,Qd4,Qg6,Bd3,Qh5,Ne4,Nxe4,Bxe4,Bf6,Qb4,Bxe4,Bxf6,Bxf3', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/pjLv9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PjLxU', 'Blitz', 'bindestrek', 1730, 'sardeas', 1667, 'd4,d5,Bf4,f6,Nf3,e5,dxe5,fxe5,Bxe5,Nc6,Bc3,Bd7,Nd4,Nf6,Nxc6,Bxc6,e3,Bd6,Bxf6,Qxf6,Qh5+,g6,Qe2,O-O,Nc3,Rae8,O-O-O,Bc5,Nxd5,Bxd5,Rxd5,Bb6,Qc4,Kh8,Rd2,Re6,h4,Rc6,Qb3,Ba5,Rd3,Qxf2,h5,Qe1+,Rd1', 'Bd2+,Kb1,Qxd1#', 'https://lichess.org/training/PjLxU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PJlYM', 'Blitz', 'tEp-tEst', 2350, 'FM Lucky_Punch', 2356, 'e4,c5,Nf3,e6,b3,d6,Bb2,Nf6,Nc3,Be7,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,O-O,Re1,Rc8,d3,Ng4,a4,Bf6,Qd2,b6,Rab1,h6,Nb5,Bxb2,Rxb2,Qf6,c4,Nde5,Nxe5,Qxe5,f4,Qh5,h3,Nf6,Nxd6,Rcd8,e5,Ne8,Ne4,Rd4,Qe3,Qg6,Rf2,Nc7,Nd6,Rxd3,Qe4,Qxe4,Rxe4,Rxb3,f5,exf5,Rxf5,Ne6,Rg4,Ra3,Kh2,Rxa4,Rh5,Kh7,Nf5,a6', 'Rxg7+,Nxg7,Rxh6+,Kg8,Ne7#', 'https://lichess.org/training/PJlYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pjmNr', 'Rapid', 'IAmDarkPhoenix', 1990, 'Nahutab1903', 1960, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Qd5,Qe7,a3,a5,Nc3,Ngxe5,Be2,d6,Nb5,Be6,Qe4,f5,Qc2,Ng4,h3,Nf6,Bd3,O-O-O,Bxf5,Bxf5,Qxf5+,Kb8,O-O,Rdf8,Qc2,g5,Nxg5,Rhg8,Nf3,Qd7,Kh2,Qg7,Rg1,Ng4+,Kh1,Rf5,Qxf5', 'Nxf2+,Kh2,Qg3#', 'https://lichess.org/training/pjmNr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PjNqV', 'Blitz', 'AaronHNahum', 1716, 'ivan1968', 1574, 'e4,c5,Nc3,e6,g3,Nc6,Bg2,Nf6,d3,h6,f4,Be7,Nf3,O-O,O-O,d5,e5,Ne8,d4,cxd4,Nxd4,f6,Nxc6,bxc6,Qh5,fxe5,fxe5,Qb6+,Kh1,Rxf1+,Bxf1,Bb7,Bxh6,gxh6,Qg6+,Ng7,Bd3,d4,Qh7+,Kf8,Rf1+,Ke8,Ne4,Nf5,g4,Ne3,Rf8+,Bxf8', 'Nf6+,Kd8,Qd7#', 'https://lichess.org/training/PjNqV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pjpPS', 'Rapid', 'YvesAnchouk', 2199, 'maragdi', 1876, 'b3,e5,Bb2,d6,e3,f5,c4,Nf6,Nf3,Be7,d4,e4,Nfd2,O-O,Nc3,c6,Qc2,a6,Be2,b5,O-O,b4,Nd1,d5,a3,bxa3,Bxa3,Bd6,Bxd6,Qxd6,Nc3,h6,Ra5,f4,cxd5,f3,gxf3,Bh3,Ndxe4,Nxe4,Nxe4', 'Qg6+,Ng3,Qxc2', 'https://lichess.org/training/pjpPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pjPxK', 'Rapid', 'bartosh', 2062, 'Ford9a', 1996, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,Nf6,Re1,Qe7,d4,h6,d5,Nb8,a4,a6,Bd3,Bg4,h3,Bxf3,gxf3,Nh5,Kh2,Qf6,Rg1,Nf4,Bf1,g5,Be3,Nd7,Nd2,Be7,b4,Qg6,Bxf4,exf4,Nb3,Ne5,Nd4,Qf6,b5,a5,Rb1,b6,Be2,Nd7,Rg2,Nc5,Qc2,Kd7,Rbg1,Rag8,h4,Qg6,Nf5,Bf6,Bd1,Be5,Rg4,f6,R1g2', 'h5,Rxg5,fxg5', 'https://lichess.org/training/pjPxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pjq0M', 'Rapid', 'Freddy_Froehlich', 1657, 'agk_19', 1685, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,e5,Ne8,O-O,d6,Qb3,Na5,Qb4,Nxc4,Qxc4,dxe5,Nxe5,Nd6,Qc3,Nb5,Qb4,Nxd4,Ndf3,Nxf3+,Nxf3,a5,Qc3,b6,Rad1,Qe8,Rfe1,Qa4,Qa3,Qg4,Rd4,Qg6', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/Pjq0M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJqgx', 'Classical', 'dAdAhU', 1908, 'Jkmnfhvcjhdbvjh222md', 1828, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,h3,h6,Be3,Bxe3,fxe3,Be6,Bb3,O-O,O-O,d5,exd5,Nxd5,Nxd5,Bxd5,c4,Be6,Nh2,Qd7,Rf3,Rad8,d4,exd4,e4,Ne5,Rg3,Nxc4,Qh5,Kh7,Bc2,Ne3,Bd3,f5,Nf3,Bf7,Ng5+,Kh8,Nxf7+,Qxf7,Qxf7,Rxf7,exf5,Nxf5,Rf3,Nd6,Rxf7,Nxf7,Rf1,Nd6,Rf4,c5,b3,Kg8,h4,Rf8,Bh7+,Kxh7,Rxf8,Nb5,Rf7,b6,h5,Nc3,Rxa7,b5,Kf2,d3,Ke3,c4,bxc4,bxc4,Kd2,Ne4+,Ke3,d2,Rd7', 'c3,Kxe4,c2,Rxd2,c1=Q', 'https://lichess.org/training/pJqgx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJSXb', 'Blitz', 'Prahasaurus', 1672, 'dragec97', 1677, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Bc4,Be7,O-O,h6,f4,Nf6,Nc3,c6,h3,O-O,Be3,Qc8,f5,d5,Bd3,dxe4,Nxe4,Nxe4,Bxe4,Bf6,c3,Na6,Bc2,Bxd4,Bxd4,Rd8,Qg4,f6,Bxf6,g5,Bb3+,Kh7,Bxd8,Qxd8,Rae1,Qf6,Be6,Be8,Qc4,Nc7,Bg8+,Kh8,Re2,Nd5,Bxd5,cxd5,Qxd5,Bc6,Qc4,a6,Re6,Qg7,Rg6,Qe7,Rd1,Qe3+,Kh1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/pJSXb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PJtoK', 'Rapid', 'GVG2001', 1799, 'brwnbr', 1681, 'c4,e5,Nc3,c6,Nf3,Qc7,d4,exd4,Nxd4,Bb4,Bd2,Bc5,e3,Bxd4,exd4,Qb6,Qe2+,Ne7,Be3,Qd8,Bg5,f6,Bd2,O-O,g3,d5,Bg2,Re8,O-O,Nf5,Qd3,dxc4,Qxc4+,Be6,d5,b5,Qc5,cxd5,Nxd5,Nd7,Qxb5,Rb8,Qd3,Rxb2,Bc3,Rb8,a3,Nc5,Qc4,Rc8,Bb4,Nb7,Qd3,a5,Bd2,Nc5,Qc4,Nb7,Qd3,Rc5,Nf4,Bc4,Qxd8,Rxd8,Rfc1,Rxd2,Ne6,Kf7', 'Nxc5,Nxc5,Rxc4', 'https://lichess.org/training/PJtoK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pjUuN', 'Rapid', 'adelelyamany', 1748, 'Antecesor', 1765, 'e4,c5,Bc4,e6,c3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,d4,Nc6,Be3,c4,Ne2,Nf6,O-O,Be7,a4,Na5,Nd2,O-O,b3,b5,axb5,Qxb5,bxc4,Nxc4,Nxc4,Qxc4,Ra4,Qc7,Bg5,h6,Bxf6,Bxf6,Qd3,Rfc8,f4,Qc6,Ra6,Qc4,Qxc4,Rxc4,Rfa1,Rc7,Kf2,Bd8,Ke3,Rb7,Kd3,Bb6,g3,Re8,Rb1,Rbe7,Re1,Re3+,Kd2,Kf8,Raa1,f5,Ng1,Rxe1,Rxe1,Rxe1,Kxe1,Ke7,Nf3,a5,Kd2,Kd6,Ne5,Kc7,Nd3,Kc6,Ne5+,Kb5,Nd3,Ka4,Nb2+', 'Kb3,Nd3,a4', 'https://lichess.org/training/pjUuN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PjVAz', 'Rapid', 'Ipod-Touch', 1744, 'tex2019', 1716, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bf4,Nc6,Nxc6,bxc6,c4,d6,e5,Qa5+,Qd2,Qxd2+,Kxd2,d5,Nc3,Bb4,a3,Bxc3+,Kxc3,Ne7,Bd3,O-O,h4,f6,f3,Ng6,Bxg6,hxg6,g4,a5,c5,Ba6,Rae1,f5,Bg5,Rab8,a4,Bc4,Rh3,Rb3+,Kc2,Rfb8,Bc1,fxg4,Rg3,Rxf3,Rxg4,Rbb3,Bd2,Kf7,Reg1,Rb7,Bxa5,Ra7,Rxg6', 'Bd3+,Kd2,Bxg6', 'https://lichess.org/training/PjVAz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PJVDf', 'Rapid', 'abrahamoniwo', 2089, 'rodliv', 2374, 'e4,e5,Nf3,d6,Bc4,g6,d4,Nc6,dxe5,dxe5,Qxd8+,Nxd8,Nxe5,Bg7,Nd3,Be6,Nd2,Nf6,O-O,O-O,e5,Nd5,f4,Ne3,Bxe6,Nxe6,Rf2,Nxc2,Rb1,Rac8,Nb3,Rfd8,Rxc2,Rxd3,g3,Rd1+,Kf2,Rcd8,Rd2,R8xd2+,Nxd2,Nc5,Ke2,Rg1,Kf2', 'Rxc1,Rxc1,Nd3+,Ke3,Nxc1', 'https://lichess.org/training/PJVDf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pjwMK', 'Classical', 'meesvlees', 1796, 'usyu001', 1866, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qd8,e4,e6,Bd3,c5,Nf3,cxd4,Nxd4,Bb4,O-O,Bxc3,bxc3,O-O,e5,Nd5,Qc2,g6,Bh6,Re8,Nf3,Nc6,Rfe1,f6,exf6,Qxf6,Rac1,e5,Bg5,Qg7,Bc4,Be6,Rcd1,Nb6,Bxe6+,Rxe6,Qb3,Re8,Bh4,h6,Bg3,Kh7,a4,e4,Nd4,Nxd4,Rxd4,e3,fxe3,Rxe3,Rxe3,Rxe3,a5', 'Qxd4,cxd4,Rxb3', 'https://lichess.org/training/pjwMK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pjxnA', 'Rapid', 'danbar001', 1856, 'Chiasm', 1781, 'e4,c5,Nf3,Nc6,a3,e6,Bb5,Nf6,Bxc6,bxc6,b4,Nxe4,bxc5,Nxc5,d4,Ne4,Qd3,d5,c4,Ba6,Ne5,f6,Nxc6,Qb6,Nb4,Bxc4,Qe3,Bxb4+,axb4,Qxb4+,Bd2,Nxd2,Qxd2,Qxd2+,Nxd2,O-O,Nxc4,dxc4,O-O,Rfc8,Rfe1,c3,Rac1,Rab8,Rxe6,c2,Ree1,a5,d5,Rb6,f3,a4,Kf2,a3,Re2,Rb2,d6,a2,d7,Rd8,Re8+,Kf7,Rxd8,a1=Q,Rf8+,Kxf8,d8=Q+,Kf7,Qd7+,Kg6,Qd3+,Kf7,Qd7+,Kg6,Qg4+,Kf7,Qh5+,Ke6,Qe8+,Kd5,Qe4+,Kd6,Qd4+,Ke7,Rxa1', 'c1=Q+,Kg3,Qxa1', 'https://lichess.org/training/pjxnA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PJxnQ', 'Blitz', 'J5ck', 1739, 'mcev', 1781, 'c4,Nf6,d4,c5,d5,b5,e3,g6,Nf3,Bg7,Be2,bxc4,Bxc4,Ba6,Bxa6,Qa5+,Nc3,Qxa6,d6,Qxd6,Qxd6,exd6,O-O,O-O,Nb5,Nc6,Nxd6,Rab8,Rb1,Nb4,a3,Nc2,b4,cxb4,axb4,Rxb4,Rxb4,Nxb4,Ba3,a5,Rb1,Rb8,Nc4,Bf8,Nxa5,Ne4,Bxb4,Rxb4,Rxb4,Bxb4,Nc4,d5,Nb6,Nc3,Kf1,f6,h3,Kf7,Nd4,Bc5,Nd7,Bxd4,exd4,Ke7,Nc5,Kd6,Ke1,h5,Kd2,Ne4+,Nxe4+,dxe4,Ke3,Kd5,f3,exf3,gxf3,g5,Kd3,f5,Ke3,f4+,Kd3,h4,Kc3,Kd6,Kc4,g4', 'fxg4,f3,Kd3,f2,Ke2,f1=B+,Kxf1', 'https://lichess.org/training/PJxnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pJxZp', 'Rapid', 'A_bhakhar', 1631, 'OtheBeast', 1696, 'd4,d5,Bf4,c5,c3,Nc6,e3,Nf6,Nf3,Qb6,Qc2,Bf5,Qxf5,Qxb2,Bb5,Qxa1,Ne5,e6,Qd3,Qb2,Nxc6,c4,Ne5+,Ke7,Bxc4,dxc4,Nxc4,Qxa2,Bd6+,Kd7,e4,Bxd6,e5,Nd5,exd6,Rac8,Ne5+,Ke8,Qb5+,Kf8,Nd7+,Kg8,Qxb7,Nb6,O-O,g6,Nxb6,axb6,Qxc8+,Kg7,d7,Qd5,Qc7,b5,Nd2,Kh6,Qf4+,Kg7,Qc7,Rf8,Qe5+,Qxe5,dxe5,Rd8,Ne4,Rxd7,Nc5,Rd5,Nb7,Rxe5,Nd6,Rd5,Nb7,f6,Na5,Kh6,Nb3,e5,f3,f5,g3,e4,h3,exf3,Rxf3,Rd1+,Kg2,Rb1,Nd2,Rd1,Rf2,Kg5,h4+,Kf6,Kh3,Rc1,Nf3,Rxc3,Ng5,Kg7,Rg2,Rb3,Rh2,Rb1,Rg2,b4,Rh2,b3,Rg2', 'Rh1+,Rh2,Rxh2+,Kxh2,b2', 'https://lichess.org/training/pJxZp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PjYW1', 'Rapid', 'KitenesS', 1996, 'Bol_u', 1982, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bc4,Nf6,Nc3,g6,Nxc6,bxc6,e5,Ng4,e6,Ne5,exf7+,Nxf7,Bxf7+,Kxf7,Qf3+,Kg7,h4,h5,Bg5,Bb7,O-O-O,Qb6,Rxd6,exd6,Qf6+,Kh7,Qf7+,Bg7,Ne4,Rhf8', 'Nf6+,Kh8,Qxg6,Rxf6,Bxf6', 'https://lichess.org/training/PjYW1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pjz0t', 'Rapid', 'Supergrandmaster3000', 1989, 'edwinkorir', 1881, 'a3,d5,c4,d4,b4,e5,d3,c5,Nf3,Bd6,g3,Bg4,Bg2,Nd7,O-O,Ngf6,Nbd2,O-O,h3,Bh5,Ng5,Qc7,Nge4,Nxe4,Nxe4,f5,Nxd6,Qxd6,f4,Rab8,bxc5,Nxc5,fxe5,Qxe5,Bf4,Qxe2,Bd5+,Kh8,Bxb8', 'Qe3+,Kh1,Bxd1', 'https://lichess.org/training/pjz0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PjZmJ', 'Rapid', 'chessall100', 1651, 'antonov1958', 1720, 'c4,e5,e3,Nf6,d4,e4,Nc3,d5,cxd5,Nxd5,Nge2,Bf5,Ng3,Bg4,Be2,Bxe2,Qxe2,Nxc3,bxc3,Be7,Nxe4,O-O,O-O,Nc6,a4,a6,Ba3', 'Bxa3,Rxa3,Qe7,Qb2,Qxe4', 'https://lichess.org/training/PjZmJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PK07v', 'Rapid', 'omran12345', 1919, 'sivasss', 1831, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Qf6,e5,Qb6,Qxb6,axb6,Nc3,d6,exd6,cxd6,Bb5+,Bd7,O-O,Bxb5,Nxb5,Kd7,a3,Ne7,Rad1,Nc8,Rfe1,Ra5,c4,Rf8,Rd2,Rd8,Red1,Kc6,b4,Ra4,f3,g6,Kf2,f5,Ke3,h6,Kf4,Rd7,h3,Ra8,g4,fxg4,hxg4,Rf7+,Ke4,Re7+,Kf4,Rf7+,Kg3,Rf6,f4,Kd7,Rd3,Re6,f5,gxf5,gxf5,Rf6,Kf4,Ke7,Re1+,Kd7,Rg1,Ne7,Rg7,Rxf5+,Kg4,Rg5+,Rxg5,hxg5,Kxg5,Rg8+,Kf6,Rg6+,Kf7,Rh6,Re3,Nf5,Rf3,Ne7,Rf6,Rh7+,Kf8,Rh8+,Kg7,Rg8+,Kh7,Rg3,Rxd6+,Ke8,Rxb6,Kf7,Rxb7', 'Rh3#', 'https://lichess.org/training/PK07v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PK0zH', 'Blitz', 'QueensPawn11', 1583, 'ana3mk', 1584, 'e4,e5,Nf3,Nc6,g3,Nf6,Bg2,d6,O-O,Bg4,Nc3,Be7,d3,O-O,Be3,h6,h3,Bh5,Qd2,Bxf3,Bxf3,Qd7,Bg2,Rad8,d4,exd4,Bxd4,Nxd4,Qxd4,c5,Qe3,Rfe8,Rad1,Bf8,Qd3,Qe7,Rfe1,Qd7,Nd5,Nxd5,exd5,Rxe1+,Rxe1,Re8,Rxe8,Qxe8,b3,Be7,c4,Bf6,Qf5,Qe1+,Kh2,Qb1,Be4,Qxa2', 'Qc8+,Bd8,Qxd8#', 'https://lichess.org/training/PK0zH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pK1yd', 'Rapid', 'Mahdi_hiteh', 1881, 'the_angshu_man', 1926, 'd4,f5,Bf4,Nf6,e3,e6,Bg5,Be7,Bxf6,Bxf6,Qh5+,g6,Qd1,d6,Nf3,Nd7,c4,b6,Nc3,Bb7,Bd3,e5,Bc2,Qe7,d5,a5,Ba4,O-O,O-O,Nc5,Re1,e4,Nd4,Qf7,Nc6,Bxc3,bxc3,Nd3,Re2,Rae8,Bc2,Nb2,Qd4,Ba6,Bb3,Nd3,Na7,c5,dxc6,Qxa7,Qxd6,Nc5,c7,Rc8,Qd5+,Kg7,Qe5+,Rf6,Qe7+,Rf7,Qe5+,Kf8,Qh8+,Ke7,Qe5+,Ne6', 'c5,Qxc7,Qxe6+', 'https://lichess.org/training/pK1yd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pk3kd', 'Blitz', 'Andrey_2001', 1863, 'Oleg_Ptk', 1846, 'e4,e5,f4,Bc5,Nf3,d6,Nc3,Nc6,Bb5,Ne7,fxe5,dxe5,Nxe5,O-O,Nxc6,bxc6,Bc4,Ng6,d3,Ne5,Bb3,Qh4+,g3,Qh3,d4,Bg4,Ne2,Qg2,Rf1,Bxd4,Bf4,Qxf1+,Kxf1', 'Bh3+,Ke1,Nf3#', 'https://lichess.org/training/pk3kd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pK3MC', 'Blitz', 'Patriciorey', 1947, 'sajadpanhi', 1915, 'e4,e5,Bc4,Nc6,Qf3,Nf6,Qb3,Qe7,Nf3,Na5,Qd3,Nxc4,Qxc4,d6,O-O,Be6,Qe2,g6,c3,Bg7,d4,O-O,d5,Bd7,h3,h6,Bd2,Nh7,c4,f5,Nc3,f4,g3,Bxh3,Rfe1,fxg3,fxg3,Bg4,Rf1,Ng5,Bxg5,hxg5,Qe3,Bxf3,Rxf3,Rxf3,Qxf3,Rf8,Qg4,Qf6,Nb5,Qf2+,Kh1,Rf3,Qe6+,Kh7,Qh3+,Kg8,Qe6+,Kh7,Qh3+,Bh6,Qd7+,Rf7,Qh3,g4,Qg2,Qe3,Rf1,Rxf1+,Qxf1,Qxg3,Qf7+,Bg7,Nxc7,Qh3+,Kg1,g3,Ne8,Qh2+,Kf1,Qh6', 'Nf6+,Kh8,Qg8#', 'https://lichess.org/training/pK3MC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pk4ZP', 'Rapid', 'Kamalkishor100', 1822, 'ncq1', 1820, 'd4,e5,dxe5,Nc6,e4,Nxe5,Nf3,d6,Nxe5,dxe5,Qxd8+,Kxd8,Bc4,Be6,Bxe6,fxe6,O-O,Nf6,Rd1+,Ke8,f3,Kf7,Bg5,h6,Bxf6,gxf6,Rd7+,Be7,Rxc7,Rac8,Rxb7,Rxc2,Nc3,Rg8,g3,Rd8,Rd1,Rxd1+,Nxd1,Rc1,Rd7,Kf8,Kf1,Bc5,Ke2,Rc2+,Rd2,Rxd2+,Kxd2,f5,Nc3,Bb4,a3,Bxc3+,bxc3,Ke7,c4,Kd6,Kc3,Kc5,h4,h5,Kb3,fxe4,fxe4,Kd4,Kb4,Kxe4,Kb5,Kf3,c5,e4,c6,e3,c7,e2,c8=Q,e1=Q,Qc6+,Qe4,Qc3+,Kg4,Qg7+,Kh3,Qxa7,Kxg3,a4,Kxh4,a5,Qd5+,Qc5,Qb7+,Qb6,Qd5+,Qc5,Kg3', 'Qxd5,exd5,a6,h4,a7,h3,a8=Q', 'https://lichess.org/training/pk4ZP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pK5QN', 'Rapid', 'ccb99', 1848, 'thehighchessguy', 1848, 'g3,d5,Bg2,Nf6,d3,e5,Nf3,Nc6,O-O,Bc5,Nxe5,Nxe5,d4,Bd6,dxe5,Bxe5,c4,Be6,cxd5,Nxd5,e4,Nb6,Nc3,c6,Qc2,O-O,b3,Qe7,Be3,Qb4,Bd2,Qc5,Rac1,Rad8,Rfd1,Bg4,Be3,Qxc3,Qxc3', 'Rxd1+,Rxd1,Bxc3', 'https://lichess.org/training/pK5QN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pk6de', 'Blitz', 'FM sid-al_1979', 2584, 'FM sergeikim2003', 2505, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,Bxd4,Nxd4,Nxd4,Bg5,d6,f4,Be6,Na3,Qe7,c3,Nc6,Bd5,Bd7,Nb5,O-O-O,b4,h6,Bxf6,gxf6,f5,Kb8,a4,Rdg8,Qe2,a6,Na3,Nd8,b5,a5,b6,c6,Bb3,d5,Kh1,Qc5,Nc2,Qxc3,Rab1,d4,Rfc1,Rg5,Ne1,Qe3,Qxe3,dxe3,Nf3,Rg4,Bc2,c5,h3,Rf4,Re1,Nc6,Rxe3,Nd4,Bd1,Bc6,Rc1,Bxe4,Rxc5,Bxf3,Bxf3,Rc8,Rec3,Rxc5,Rxc5,Nxf3,gxf3,Rb4,Rd5,Rxb6,Rd8+,Ka7,Rf8,Rb4,Rxf7,Rxa4,Rxf6,Rf4,Kg2,a4,Rxh6,a3,Rd6,a2,Rd1,Rxf5,Ra1,b5,Rxa2+,Kb6,Kg3,b4,Kg4,Rf4+,Kg3,Kb5,Re2,b3', 'Rxe5+,Kc4,Kxf4', 'https://lichess.org/training/Pk6de');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pk7Ls', 'Blitz', 'Chung7', 1542, 'sagita88', 1521, 'Nf3,Nc6,d4,d5,e3,Bg4,Be2,Nf6,O-O,e5,c4,Bb4,Bd2,Bxd2,Nbxd2,e4,Ne5,Bxe2,Qxe2,dxc4,Qxc4,O-O,Rad1,Qd6,f3,a6,fxe4,Nxe5,dxe5,Qxe5,Rf5,Qxb2,e5,Ne8,e6,Nf6,Ne4,Nxe4,Qxe4,Qxa2,Re5,fxe6,h3,Rae8,Rh5,g6,Rg5,Qb3,Rd7,Rf5,Qh4,Qxe3+,Kh2,Qe5+,Kg1,Qe3+,Kh2,Qxg5', 'Qxh7+,Kf8,Qg7#', 'https://lichess.org/training/Pk7Ls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PK7pD', 'Classical', 'Exiledz', 1637, 'vilorik', 1674, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,Nc3,O-O,b3,Re8,Bb2,d5,d3,d4,Na4,Bb6,c4,Ba5,a3,a6,Bxc6,bxc6,c5,Bc3,Nxc3,dxc3,Bxc3,Nd7,b4,a5,Qd2,Ba6,Rfd1,Qe7,d4,Rad8,d5,cxd5,Qxd5,Be2,Rd2,Bxf3,gxf3,Nf6,Qc4,Rxd2,Bxd2,c6,bxa5,Rb8,Bg5,h6,Bxf6,Qxf6,Qc3,Rb5,a6,Qg5+,Kf1,Rb8,Ke2,Ra8,Qa5,Qe7,Rb1,Qe6,a7', 'Qa2+,Kf1,Qxb1+', 'https://lichess.org/training/PK7pD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PKaIn', 'Rapid', 'gambit83', 2044, 'UREEFF', 2207, 'e4,e6,f4,d5,exd5,exd5,d4,Bd6,Nf3,f6,Bd3,Ne7,O-O,O-O,c4,c6,c5,Bc7,Nc3,Bf5,Be3,Nd7,Qc2,Bxd3,Qxd3,Re8,Rae1,Nf8,Nh4,Nfg6,Nf5,Nxf5,Qxf5,Qc8,Qh5,f5,Bd2,Qd7,Ne2,Re4,Ng3,Rxd4,Bc3,Rxf4,Rxf4,Nxf4,Qxf5,Qxf5,Nxf5,g6,Nh6+,Kf8,g3,Nd3,Rf1+,Ke8,b4,Be5', 'Bxe5,Nxe5,Re1,Kd8,Rxe5', 'https://lichess.org/training/PKaIn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PKbx6', 'Classical', 'landmoose', 1803, 'AlphaStigma', 1769, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,g6,O-O,Bg7,Be3,Ng4,Qf3,Be5,h3,Nh2,Qe2,Nxf1,Rxf1,Nc6,Nxc6,bxc6,f4,Bxc3,bxc3,Qa5,Qf2,Qxc3', 'Bd4,Qa5,Bxh8', 'https://lichess.org/training/PKbx6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PKCwW', 'Rapid', 'inemuri', 1839, 'khalil123', 1951, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bd7,Bxc6,bxc6,d4,exd4,Nxd4,Nf6,O-O,Be7,Re1,O-O,e5,dxe5,Rxe5,Bd6,Re1,Qb8,Qf3,Bg4,Qxc6,Bd7,Qf3,Bg4,Qc6,Qb4,Nde2,Bxe2,Rxe2,Rfe8,Rxe8+,Rxe8,Bg5,Qxb2,Rf1,Re6,Bxf6', 'Bxh2+,Kxh2,Rxc6', 'https://lichess.org/training/PKCwW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PKcYN', 'Rapid', 'moganom', 1641, 'realPatrickBateman', 1657, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,Nf3,O-O,b3,c5,Bb2,dxc4,Bxc4,Nc6,O-O,Bg4,Be2,Qa5,Qc2,Rfd8,Rfd1,a6,Nd2,cxd4,Nc4,Qc5,exd4,Nxd4,Rxd4,Qxd4,Rd1,Qc5,Ba3,Rxd1+,Nxd1,Qc7,Nde3,Bxe2,Qxe2,b5,Nd2,Rd8,h3,Bh6,Ndf1,Qe5,Qf3,Bxe3,Nxe3,Qa1+,Kh2,Qe5+,g3,e6', 'Be7,Rc8,Bxf6', 'https://lichess.org/training/PKcYN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pkek2', 'Rapid', 'didi5', 1859, 'Mitchos', 1796, 'c4,e5,Nc3,Nf6,g3,Bb4,Bg2,O-O,Nf3,Nc6,O-O,Re8,d3,Bxc3,bxc3,d5,cxd5,Nxd5,Bb2,Nf6,Nd2,Bf5,Ne4,Nxe4,Bxe4,Bxe4,dxe4,Qf6,Qc2,Rad8,Rad1,a6,Rd5,Rxd5,exd5,Ne7,Rd1,Rd8,c4,Nf5,Qc3,Nd4,Re1,Qf5,Qd2,Ne6,Qe3,Ng5,Qxe5,Nh3+,Kg2,Qxe5,Bxe5,Ng5,f3,h6,Rb1,Re8,f4,f6,fxg5,Rxe5,Kf2,Rf5+,Ke1,b6,gxh6,gxh6,a4,a5,Rb5,Re5,d6,Rxb5,cxb5,cxd6,Kd2,Kf7,Kd3,Ke6,Kd4,f5,e3,h5', 'e4,fxe4,Kxe4', 'https://lichess.org/training/pkek2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pkEyH', 'Rapid', 'pamuk1', 1701, 'sahivaaaa', 1638, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,Bb6,b4,d6,a4,a6,Nbd2,Re8,Re1,d5,exd5,Nxd5,Qb3,Be6,Ng5,Qxg5,Nf3,Qd8,Nxe5,Bxf2+,Kxf2,Qf6+,Nf3,Qxc3,Qxc3,Nxc3,Bxe6,Rxe6,Rxe6,fxe6,Bb2,Nd5,Re1,Ncxb4,Ne5,Rf8+,Kg1,Nf4,Re3,Rd8,d4,b6,g3,Nfd5,Re1,g5,Kg2,Nc2,Re2,Ncb4,Ba3,Nd3,Nxd3,c5,Re5,cxd4,Rxg5+,Kh8,Bb2,Ne3+,Kf3,Nc4,Ba1,Rf8+,Ke4,Nd6+,Ke5', 'Nf7+,Kxe6,Nxg5+', 'https://lichess.org/training/pkEyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PkezB', 'Blitz', 'erm39', 1864, 'Zugbaar2018', 1864, 'd4,e6,c4,f5,Nc3,Nf6,d5,e5,Bg5,d6,Nf3,Be7,g3,a5,Bg2,Na6,O-O,Bd7,a3,Nc5,b4,Nce4,Nxe4,Nxe4,Bxe7,Qxe7,Nd2,Nf6,e4,O-O,b5,b6,a4,Rae8,Qc2,g6,Rfe1,Rf7,Nf1,Ref8,f3,fxe4,fxe4,Ng4,Re2,Nf2,Ne3,Nh3+,Bxh3,Bxh3,Rae1,Qg5,Qd3,Rf3,Qd2,Qf6,Qd1,Rf2,Qd2,Rf1+,Nxf1', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/PkezB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pKffR', 'Rapid', 'meanknight', 1754, 'tonyspooky', 1776, 'e4,c5,Nf3,d6,Bc4,Nc6,Ng5,Ne5,Bd5,Nf6,Bb3,c4,Ba4+,Bd7,Bxd7+,Qxd7,O-O,h6,Nf3,Nxe4,Nxe5,dxe5,Re1,Qd5,c3,e6,d4,cxd3', 'Qa4+,b5,Qxe4', 'https://lichess.org/training/pKffR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pKFqQ', 'Rapid', 'threepointsling', 1717, 'musitante', 1685, 'c4,e5,Nc3,Nf6,Nf3,d6,d4,e4,Ng5,d5,cxd5,Nxd5,Nxd5,Qxd5,e3,Qxg5,a3,Nd7,h4,Qd8,Bd2,Nf6,Qb3,b6,Bb5+,Bd7,Bc4,Be6,Bb5+,Bd7,Bc4,Qe7,Bb4,c5,Bc3,Be6,Qa4+,Bd7,Qb3,cxd4,Bxd4,Be6,Bxf6,Qxf6,Bb5+,Bd7,Qa4,O-O-O,Rc1+,Kb7,Ba6+,Kb8,Qxe4,Bc8', 'Rxc8+,Rxc8,Qb7#', 'https://lichess.org/training/pKFqQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pkFvY', 'Rapid', 'caradura2', 1745, 'Ducyhn', 1794, 'e4,e5,f4,exf4,Nf3,Be7,e5,Bh4+,Ke2,d6,d4,dxe5,dxe5,Qxd1+,Kxd1,Be7,Bxf4,Bg4,Nd2,Nc6,h3,Bh5,Bb5,Bxf3+,Nxf3,Rd8+,Ke2,h6,Bxc6+,bxc6,Rad1,Rxd1,Rxd1,Bc5,a3,Ne7,b4,Bb6,c4,c5,b5,O-O,g4,Ra8,Rd7,Ng6,Bg3,a6,a4,axb5,axb5,Nf8,Rd3,Ne6,Ke3,Ra2,Nh4,Nd4,Nf5', 'Re2+,Kf4,g5#', 'https://lichess.org/training/pkFvY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PKGVB', 'Rapid', 'Frachitique', 2155, 'PeterDL', 2117, 'e4,b6,Nf3,Bb7,Nc3,e6,Bc4,Bb4,d3,Bxc3+,bxc3,Nf6,Ba3,d6,O-O,Nbd7,Re1,e5,Bxf7+,Kxf7,Ng5+,Kg8,Ne6,Qc8,Qf3,Nf8,Ng5,h6,Nh3,Qg4,Qe3,Ne6,f3,Qg6,d4,Nd7,d5,Nec5,f4,exf4,Nxf4,Qg5,Bc1,Ne5,Qh3,Qg4,Qe3,g5,Ne2,Kg7,Nd4,Bc8,h3,Qh5,Rf1,Rf8,Rxf8,Kxf8,Qf2+,Qf7,Qe2,Kg7,Bd2,Bd7,Rf1,Qg6,Nf5+,Bxf5,exf5,Qf6,g4,Rf8,Be3,Ncd7,Bd4,Re8,Qa6,Qd8,Qxa7,Kf6,a3,Qb8,Qa4,Re7,Qb5,Qa8,a4,Qa5,Qc6,Kf7,Qxc7,Qxa4,Qxd6,Qxc2,Qxh6,Nf6', 'Bxe5,Rxe5,Qg6+', 'https://lichess.org/training/PKGVB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pkiYp', 'Rapid', 'Andrey33', 1881, 'tsielicki', 1651, 'c4,g6,d3,Bg7,Nf3,Nf6,Nc3,O-O,e3,d6,Be2,e5,a3,b6,Qc2,Bb7,O-O,Nbd7,b4,c5,bxc5,bxc5,Nd2,h5,Rb1,Rb8,Rb3,Qe7,Bb2,Qe6,Rb1,h4,h3,g5,Ba1,Ba8,Rxb8,Nxb8,Nb5,Nc6,Qa4,Qd7,Bf3,g4,Bxc6,Bxc6,Qxa7,gxh3,Qxd7,Bxd7,Nxd6,hxg2,Bxe5,h3,N2e4', 'Nxe4,Nxe4,Bxe5', 'https://lichess.org/training/pkiYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PkKQd', 'Rapid', 'SijoittelijaC', 1724, 'Tempo-chess', 1664, 'd4,d5,c4,c5,dxc5,dxc4,Qxd8+,Kxd8,e3,e6,Bxc4,Bxc5,Nf3,Nc6,O-O,Nge7,Rd1+,Kc7,Nc3,a6,a3,b5,b4,Bxb4,axb4,bxc4,b5,Nb4,Ne5,Bb7,Rd7+,Kb6,Rxe7,axb5,Rxa8,Rxa8,Rxf7,Ra1,Ne2,Be4,h3,Bd3,Kh2,Bxe2,Bb2,Ra2', 'Bd4+,Ka5,Ra7+,Na6,Nc6+', 'https://lichess.org/training/PkKQd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pkm2W', 'Classical', 'Mreekya', 1604, 'Salo2103', 1632, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,Ng5,Nh6,Nc3,O-O,O-O,Nd4,Be3,Nxc2,Qxc2,Bxe3,fxe3,Qxg5,Rf3,Ng4,Qe2,Qh5,Rh3,Qg5,Rf1,Nh6,Rg3,Qh4,Qf2,a6', 'Rxg7+,Kxg7,Qxh4', 'https://lichess.org/training/pkm2W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PkM6r', 'Blitz', 'lovely-pearl', 2168, 'GM Maksat-94', 2466, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,e5,Re1,Nge7,d4,exd4,cxd4,cxd4,e5,O-O,Bg5,Qb6,a4,a6,Bc4,Qxb2,Nbd2,Qb6,Rb1,Qc7,Ne4,Nxe5,Rc1,Nxc4,Bxe7,d5,Bxf8,Kxf8,Neg5,h6,Nh3,Bxh3,gxh3,Qd7,Nxd4,Qxh3,Qf3,Qd7,Ne6+,Kg8,Nxg7,Kxg7,Rcd1,Rd8,Rd4,b6,Red1,Ne5,Qc3,Qe6,f4,Qg4+,Kh1,Rc8,fxe5', 'Qxd1+,Rxd1,Rxc3', 'https://lichess.org/training/PkM6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PKMiG', 'Classical', 'Dyls', 1797, 'ElPippiolo', 1828, 'd4,d5,Nf3,c5,c4,Nf6,dxc5,e6,cxd5,Nxd5,Nc3,Nxc3,Qxd8+,Kxd8,bxc3,Bxc5,e3,Ke7,Bb5,a6,Ba4,b5,Bb3,Bb7,O-O,Bxf3,gxf3,Nc6,Kh1,Ne5,f4,Nd3,a4,b4,cxb4,Nxc1,Raxc1,Bxb4,Rc7+,Kf6,Rg1,Rac8,Rgc1,Rxc7,Rxc7,Rd8,Kg2,a5,Bc4,Rd2,Bb5,Rd8,Kf3,h5,h4,Kg6,Ke4,f5+,Ke5', 'Bd6+,Kxe6,Bxc7', 'https://lichess.org/training/PKMiG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pkObz', 'Classical', 'mickel_TAL', 1934, 'Vlad58', 1920, 'g4,d5,Bg2,Bxg4,c4,e6,Qb3,Ne7,cxd5,exd5,Nc3,c6,d4,Qc7,Bg5,Nf5,e3,Bd6,Rc1,Qb6,h3,Qxb3,axb3,Bh5,Nxd5,cxd5', 'Rc8+,Kd7,Rxh8', 'https://lichess.org/training/pkObz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pKoDs', 'Classical', 'HeBe3yH', 1977, 'JavierMQ', 1922, 'Nf3,c5,c4,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,e4,Nf6,Nc3,Bb4,Bd3,O-O,O-O,d5,cxd5,cxd5,exd5,Bb7,Bg5,Bxc3,Bxf6,Qxd5,Bxh7+,Kxh7,Qh5+,Kg8,f3,Bd4+,Kh1,e4,Qxd5,Bxd5,Bxd4,exf3,gxf3,Rfe8,Kg2,Re2+,Kg3,Rc8,h4,Rcc2,a3,Rg2+,Kf4,f6,Rad1,Be6,b4,Rce2,Bxa7', 'g5+,hxg5,fxg5#', 'https://lichess.org/training/pKoDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pkoVC', 'Rapid', 'sweeper07', 1970, 'Huckleberry117', 1790, 'd4,Nf6,c4,e6,Nc3,b6,Nf3,c5,d5,exd5,cxd5,d6,e4,Bb7,Bd3,Nbd7,Bg5,Ne5,Nxe5,dxe5,O-O,a6,a4,Bd6,Ne2,O-O,f4,Qd7,Bxf6,gxf6,fxe5,Bxe5,Nf4,Qd6,Qg4+,Kh8,Qh5,Bxf4', 'e5,f5,exd6', 'https://lichess.org/training/pkoVC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pKpdf', 'Blitz', 'anish_thakur007', 1501, 'Carylll', 1595, 'd4,c5,c4,e6,d5,exd5,cxd5,Nf6,Nc3,Qa5,e4,d6,Bd2,Be7,Nf3,Qc7,Nb5,Qd7,Qa4,a6', 'Nc7+,Kf8,Qxd7,Nbxd7,Nxa8', 'https://lichess.org/training/pKpdf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pKPVN', 'Rapid', 'GRAN_PHILP', 1801, 'Alex_Garoeb', 1740, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bc4,h6,a3,Bc5,d3,O-O,O-O,a6,Bb3,d6,h3,Nh7,Qe1,Qe7,Be3,Nd4,Nd5,Qd7,Nxd4,Bxd4,f4,Bxb2,Ra2,Bd4,Bxd4,exd4,f5,c6', 'Nb6,Qd8,Nxa8', 'https://lichess.org/training/pKPVN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pKQOP', 'Blitz', 'alban5011', 1631, 'Maagnuus', 1633, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,d3,b6,Bg5,Nxe4,Bxd8', 'Bxf2+,Ke2,Bg4#', 'https://lichess.org/training/pKQOP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pKrPh', 'Rapid', 'GadjahMada', 1674, 'Dolfin_91', 1754, 'e3,e5,d4,exd4,exd4,Nf6,Nf3,b6,Be2,Bb7,O-O,d5,Re1,Be7,Bb5+,Nc6,Nc3,Qd6,b3,O-O-O,Ba3,Qxa3,Qe2,Bb4,Qd3,Qb2,Na4,Qa3,Qf5+,Kb8,c3,Ba5,b4,Nxb4,cxb4,Bxb4', 'Re3,Qxe3,fxe3', 'https://lichess.org/training/pKrPh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pKRW3', 'Rapid', 'FULL_NATTY_BRAH', 2230, 'Mohammadrt970', 2194, 'a3,d5,Nf3,Nc6,d4,Bf5,c4,e6,Nc3,Nf6,e3,Be7,Be2,O-O,O-O,h6,b4,dxc4,Bxc4,a6,Bb2,Ne4,Qe2,Bf6,Rfd1,Qe7,Bd3,Nxc3,Bxc3,Bxd3,Rxd3,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Qxe5,Rad1,a5,Rd5,Qc3,bxa5,Rxa5,Rxa5,Qxa5,Qc4,b5,Qc5,Ra8,g3,Qxa3', 'Rd8+,Rxd8,Qxa3', 'https://lichess.org/training/pKRW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pKrY0', 'Blitz', 'Anonymous_JJ', 1645, 'yildizhayrettin35', 1773, 'e4,e5,Nc3,Nf6,f4,d5,fxe5,Nxe4,Qf3,Nxc3,bxc3,Be6,d4,c5,Bb5+,Nc6,Ne2,cxd4,cxd4,Qa5+,Bd2,Qxb5,O-O,Be7,Nf4,Nxd4,Qh5,g6,Qh6,Nxc2,Nxe6,Nxa1,Qg7,fxe6,Qxh8+,Kd7,Qxa8', 'Bc5+,Be3,Bxe3+,Kh1,Qxf1#', 'https://lichess.org/training/pKrY0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pKsG7', 'Rapid', 'hasaesmaeili', 1817, 'G-M-27', 1817, 'd4,d5,c4,c6,Nc3,Nf6,f3,Nbd7,e4,dxe4,fxe4,c5,d5,Ne5,Bf4,Nfd7,Qa4,Qc7,Nf3', 'Nxf3+,gxf3,Qxf4', 'https://lichess.org/training/pKsG7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pKsmQ', 'Rapid', 'bdharshamR', 1963, 'SuccessChessLady', 1942, 'e4,e6,Nf3,a6,d4,b6,Bd3,Be7,Be3,Bb7,c3,d5,e5,c5,Nbd2,c4,Bb1,Nh6,Bxh6,gxh6,h3,b5,a4,Nc6,axb5,axb5,Rxa8,Qxa8,Qc2,b4,cxb4,Nxb4,Qc3,Qa1,O-O,Qa7,Re1,Rg8,Bxh7,Rg7,Bb1,h5,Qe3,Ba6,Qh6,Bf8,Qxh5,Ke7,Qh4+,Kd7,Qh8,Ke7,Qh6', 'Rxg2+,Kxg2,Bxh6', 'https://lichess.org/training/pKsmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pktGW', 'Blitz', 'salimyoosuf', 1818, 'kosakarika', 1994, 'd4,Nf6,c4,Nc6,Nc3,e5,dxe5,Nxe5,e3,Bb4,Nf3,Bxc3+,bxc3,Ng6,Ba3,d6,c5,d5,c4,c6,cxd5,Nxd5,Qb3,Rb8,Bc4,Be6,Rd1,O-O,O-O,Nge7,e4,Qa5,exd5,Nxd5,Nd4,b5,cxb6,Rxb6,Qf3,Re8,Nxc6,Rxc6,Bxd5,Rc3,Qh5,Bxd5,Rxd5,Qxa3,Ra5,Qc1,Rxa7', 'Qxf1+,Kxf1,Rc1+,Qd1,Rxd1#', 'https://lichess.org/training/pktGW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pkU0W', 'Classical', 'henryofthevalley', 1739, 'ChinmayDesh', 1720, 'd4,c6,Bf4,d5,Nc3,Nf6,f3,Bf5,g4,Bg6,Bg2,e6,e4,Bb4,e5,Nfd7,h4,h6,g5,hxg5,Bxg5,f6,exf6,gxf6,Bf4,f5,Bg5,Qc7,Ne2,Na6,Nf4,Bf7,Qe2,Nf8,Bh3,Be7,Bxe7,Qxe7,Ng2,O-O-O,Bxf5,Re8,Bd3,Nb4,a3,Nxd3+,Qxd3,Bg6,Qd2,Nd7,O-O-O,Bh5,Rdf1,Bf7,b4,Reg8,Kb2,a6,Na4,Qf6,Nc5,Nxc5,bxc5,e5,c3,Bh5,dxe5,Qxe5,f4,Qe4,Rfg1,Bf3,Re1', 'Rxg2,Qxg2,Bxg2', 'https://lichess.org/training/pkU0W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pkVha', 'Classical', 'Bernard16220', 1745, 'twentytwentytwenty', 1901, 'd4,Nf6,c4,e6,a3,d5,Nf3,c5,Nc3,cxd4,Nxd4,Nc6,Nxc6,bxc6,e3,Be7,Be2,O-O,O-O,Rb8,Qa4,Qc7,cxd5,exd5,Bd2,Rxb2,Rfd1,Ng4', 'Bxg4,Bxg4,Qxg4', 'https://lichess.org/training/pkVha');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pkVJe', 'Rapid', 'Ludico2019', 1819, 'dark12344', 1859, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Bd7,d4,exd4,Nxd4,Nf6,Nc3,Be7,Re1,O-O,h3,c5,Nf3,Bc6,e5,dxe5,Nxe5,Bb7,Qe2,Bd6,Bg5,Re8,f4,h6,Bh4,Kf8,Qc4,Re7,Nd5,Bxd5,Qd3,Be6,Bxf6,gxf6,Qh7,Re8,Qh8+,Ke7,Qxh6,fxe5,Qg5+,Kd7,Qg3,exf4,Qa3,Kc8,Qa6+,Kb8,Qb5+,Kc8,Rad1,Qd7,Qa6+,Kd8,Rd2,Ke7,Rde2,Rab8,b3,Qb5,Qa3,c4,Qc1,cxb3,axb3,Qb6+,Kh1,Kd7,Qb2,Rg8,Qf6,Qc6,Rxe6,fxe6', 'Qxe6+,Kd8,Qxg8+', 'https://lichess.org/training/pkVJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PKW2z', 'Bullet', 'lukasz_mazurek', 1929, 'abufalia', 1939, 'e4,e5,f4,d5,Nf3,dxe4,Nxe5,Nf6,Bc4,Be6,Bxe6,fxe6,O-O,Bc5+,Kh1,O-O,Nc3,Nc6,Nxc6,bxc6,Qe2,h5,Nxe4,Bb6,Ng5,Ng4,h3,Nf2+,Rxf2,Bxf2,Qxf2,Qxg5,d3,Qf6,Rb1,e5,Bd2,exf4,Rf1,g5,Bc3,Qf5,Qd4,Qh7,Re1,Rae8,Qc4+,Qf7,Qxc6,Rxe1+,Bxe1,Re8,Bc3,g4,Qh6,Qh7,Qxf4,Rf8,Qg5+,Kf7,Qd5+,Kg6,Qe4+,Kh6,Bd2+,Kg7,Qe7+,Kg8,Qg5+,Qg7,Qxh5', 'Rf1+,Kh2,g3#', 'https://lichess.org/training/PKW2z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PKwhh', 'Rapid', 'gahangirshabani', 1826, 'Viacheslav120266', 1834, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,e6,h3,Bb4,Bd3,d5,exd5,Nxd5,Bd2,Bxc3,bxc3,Qa5,c4,Ndb4,Ne2,Qe5,O-O,Qd6,Be4,Bd7,a3,Na6,Qc1,Rd8,Rd1,Nc5,Bf3,Qe7,Qb2,f6,Bb4,Ne5,Bxb7,Rb8,Ba6,Nxa6,Qd4,Nxb4,axb4,Nc6,Qf4,O-O,b5,e5,Qe3,Nb4,Qxa7,Ra8,Qxd7', 'Qxd7,Rxd7,Rxa1+', 'https://lichess.org/training/PKwhh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PkWtc', 'Blitz', 'LilSpark', 1596, 'babapriyeshanand', 1613, 'e4,e5,f4,exf4,Nf3,d6,d4,Bd7,Bxf4,Nc6,d5,Ne5,Nxe5,dxe5,Bxe5,Qe7,Qd4,Nf6,Bxf6,gxf6,Nc3,O-O-O,Qxa7,Be8,Qa8+,Kd7,Qxb7,Qd6,Nb5,Qe5,Qc6+,Kc8,Nd6+,Bxd6', 'Ba6+,Kb8,Qb7#', 'https://lichess.org/training/PkWtc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PKYrd', 'Rapid', 'Kettensklave', 1933, 'WilliamSF', 1895, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,d3,Bc5,c3,O-O,O-O,d5,Nbd2,d4,c4,b4,Re1,h6,Nf1,a5,Ba4,Ne7,Ng3,Qd6,Rf1,Bg4,h3,Bxf3,Qxf3,Ng6,Nf5,Qe6,g4,Nd7,h4,Nb6,Bd1,f6,g5,fxg5,hxg5,Nh4,Qh3,Nxf5,exf5,Qxf5,Qxf5,Rxf5,gxh6,gxh6,Bxh6,Kh7,Bg4,Rg8,f3,Kxh6,Kg2,Nd7,Rh1+,Kg5', 'Rh5+,Kg6,Rxf5', 'https://lichess.org/training/PKYrd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PkZCr', 'Classical', 'Saracenator', 1902, 'TyrSam', 2058, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Nc3,c6,Bd3,Bg4,h3,Bh5,O-O,Ne7,Re1,O-O,Be2,Bg6,Ne5,Bxe5,dxe5,Nd7,Bf4,Re8,Bf3,Nf8,Bh2,Ne6,Bg4,Nf5,Ne2,d4,Bxf5,Bxf5,g4,Be4,Nxd4,Qxd4,Qxd4,Nxd4,Rxe4,Nf3+,Kg2,Nxh2,Kxh2,Rad8,Re2,Rd5,f4,Red8,Rae1,Rd2,Kg3,g6,Kf3,Kg7,a4,a5,b3,b5,Rxd2,Rxd2,Re2,Rd4,Ke3,Rb4,axb5,cxb5,Rd2,a4,Rd4', 'Rxd4,Kxd4,a3', 'https://lichess.org/training/PkZCr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PL0F9', 'Rapid', 'Catana3547', 1802, 'kutaybay', 1787, 'e4,e5,d4,Nc6,d5,Nce7,c4,d6,Qa4+,Bd7,Qb3,b6,Be3,a5,Bd3,a4,Qc2,Nf6,f4,exf4,Bxf4,Ng6,Be3,Ng4,Bd4,N6e5,h3,Nxd3+,Qxd3,Ne5,Bxe5,dxe5,Nf3,Qf6,O-O,Bd6,Nc3,Qg6,Kh2,O-O,Nh4,Qh5,Qg3,g5,Nf5,Bxf5,Rxf5,f6,Nb5,Be7,Nxc7,Rac8,Ne6,Rf7,b3,axb3,axb3,Qe2,Re1,Qc2,Ref1,h6,h4,Qd2,hxg5,hxg5,Nxg5,Rg7,Nf3,Qh6+,Qh3,Qxh3+,gxh3,Ra8,Rg1,Ra2+,Kh1,Rxg1+,Kxg1,Bc5+,Kf1,Rf2+,Ke1,Rb2,Rxf6,Rxb3,Rg6+,Kh7,Rg3,Rb1+,Kd2,Rb2+,Kc1,Rb4,Nxe5,Bd4,Nc6,Rxc4+,Kd2,Bg7,Kd3', 'Rc3+,Ke2,Rxg3', 'https://lichess.org/training/PL0F9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PL2Bv', 'Rapid', 'Serdavman', 1642, 'tajd', 1789, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Nbd7,h3,Nh5,Be3,e5,g4,Nf4,Bxf4,exf4,Qd2,g5,h4,f6,hxg5,fxg5,O-O-O,h6,Bc4+,Kh8,Be6,Nf6,Bxc8,Qxc8,e5,dxe5,Nxe5,Nxg4,Ng6+,Kh7,Nxf8+,Qxf8,Qd3+,Kh8,Qf3,Qf5,Qe4,Qf7,Rhf1,c6,Qf3', 'Nh2,Qd3,Nxf1', 'https://lichess.org/training/PL2Bv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pL2da', 'Rapid', 'oeil', 1860, 'SohrabCelest', 1850, 'e4,e5,Nf3,d6,c3,Nc6,Bc4,h6,O-O,Bg4,Qb3,Qe7', 'Qxb7,Rb8,Qxc6+', 'https://lichess.org/training/pL2da');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pL3pF', 'Rapid', 'Kureyuki1', 1639, 'nullours', 1633, 'Nf3,d5,e3,Nc6,c4,dxc4,Bxc4,Nf6,b3,e5,d3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O,Bg4,h3,Bh5,g4,Bg6,Nh4,Bxd3,Bxd3,Qxd3,Rc1,Ne4', 'Nxe4,Qxe4,Rc4', 'https://lichess.org/training/pL3pF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pl42v', 'Rapid', 'Jouni52', 1890, 'Pat964', 2010, 'd4,Nf6,c4,e6,Nc3,d5,e3,c6,Nf3,Nbd7,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,a6,a3,Bd6,b4,O-O,Bb2,Qe7,Qc2,e5,dxe5,Nxe5,Nxe5,Bxe5,Rfe1,Bxh2+,Kxh2,Ng4+,Kg3,h5,Rh1,Qd6+,f4,Nxe3,Bh7+,Kh8,Qd3,Qe6,Rxh5', 'Qg4+,Kf2,Qxh5', 'https://lichess.org/training/Pl42v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pl4Th', 'Rapid', 'Nawii88', 1790, 'bkecskemeti', 1789, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,g3,Nf6,Bg2,Ne4,O-O,Qc8,Re1,Be7,Qd3,O-O,Be3,c6,Nbd2,Re8,Nxe4,dxe4,Qxe4,Bb4,Qd3,Bxe1,Rxe1,Bf5,Qb3,Be4,Ng5,Bg6,h4,h6,Nh3,Be4,Bxe4,Rxe4,Nf4,Nd7,d5,Ne5,d6,Nf3+,Kf1,Nxe1,Kxe1,Qd7,Qd3,Rae8,Kf1,f5,a3,a5,c4,g5,hxg5,hxg5,Ng2,f4,gxf4,gxf4,Bxf4,Qf5,Qg3+,Kf7,c5,Re2,Be3,Rg8,Qxg8+,Kxg8,Kxe2,Qg4+,Kf1,Kf7,Ne1,Ke6,Ng2,Qd1+,Ne1,Qb3,Nf3,Qxb2,Nd4+,Kd7,Kg2,Qxa3,Nf3,a4', 'Ne5+,Ke6,d7,Kxe5,d8=Q', 'https://lichess.org/training/Pl4Th');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pl4Zl', 'Bullet', 'pitgun', 1944, 'jdmk0201', 1895, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,Bg5,Bg4,Nbd2,Nbd7,c4,c6,Qc2,O-O,O-O-O,Bh5,Kb1,Bg6,Bxg6,hxg6,h4,Qa5,Nb3,Qb4,c5,Bc7,Rde1,Ne4,Bd2,Nxd2+,Nbxd2,Bf4,Nb3,Nf6,Ne5,Ne4,g3,Bxe5,dxe5,a5,a3,Qb5,h5,gxh5,Rxh5,a4,Rxe4,axb3', 'Rh8+,Kxh8,Rh4+,Kg8,Qh7#', 'https://lichess.org/training/Pl4Zl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pL5gB', 'Blitz', 'jana7312', 1923, 'Aiden_Chen', 1925, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Qf6,c3,d6,Nd2,Be6,O-O-O,O-O-O,Qxa7,Ne7,Qa8+,Kd7,Bb5+,c6,Qxb7+,Ke8,Bxc6+,Nxc6,Qxc6+,Bd7,Qb6,Ke7,Nf3,Qf4+,Kb1,Rhe8,e5,Be6,Qc7+,Rd7,exd6+,Kf8,Qc5,Red8,Nd2,Rxd6,Ka1,Kg8,Qc7,Rxd2', 'Qxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/pL5gB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PL5TC', 'Rapid', 'jonas0902', 1821, 'MarcusBayern', 1809, 'e4,Nc6,Nf3,d6,d4,Nf6,Nc3,Bg4,Be3,e5,d5,Ne7,h3,Bd7,Bb5,c6,dxc6,Nxc6,Qd2,Be7,O-O-O,a6,Bc4,Rc8,Nh4,Nb4,Bb3,O-O,a3,Nxe4', 'Nxe4,Nxc2,Bxc2', 'https://lichess.org/training/PL5TC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pl6I5', 'Blitz', 'tximet', 2299, 'NormWeinstein', 2455, 'e4,c5,Nf3,d6,d4,Nf6,Nc3,cxd4,Nxd4,Nc6,Be2,e6,g4,d5,Nxc6,bxc6,Bg5,Be7,e5,Nd7,Bxe7,Qxe7,Qd4,O-O,O-O-O,a5,f4,Ba6,Bxa6,Rxa6,Qd3,Ra7,Rde1,Nb6,f5,Nc4,h4,Qb4,Nd1,Rb7,b3,Qa3+,Kb1,a4,f6,Ra8,Rh2,Qxa2+,Kxa2,axb3+,Kb1,b2,Nxb2', 'Rxb2+,Kc1,Ra1#', 'https://lichess.org/training/Pl6I5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pl9Ev', 'Rapid', 'evgen18', 1783, 'TSV_1894', 1757, 'e4,c5,Bc4,Nc6,Qh5,e6,d3,Nf6,Qd1,d5,exd5,exd5,Bb3,Nd4,c3,Qe7+,Be3,Bg4,Qd2,Nxb3,axb3,d4,cxd4,cxd4,f3,Bh5,Ne2,dxe3,Qd1,Rd8,O-O,Qd7,d4,Nd5,Nbc3,a6,Ra5,Nxc3,bxc3,Bg6,b4,Be7,Nf4,O-O,Re1,Bg5,Rxg5,Rde8,Rd5,Qc6,Qc1,Qf6,Nxg6,Qxg6,Rxe3', 'Rxe3,Qxe3,Qb1+,Kf2,Qa2+,Qe2,Qxd5', 'https://lichess.org/training/pl9Ev');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pl9U9', 'Rapid', 'izakhari', 1621, 'Alfacezinha-Dengosa', 1639, 'e4,c5,Nf3,Nc6,d4,e6,Be3,Nf6,Nbd2,cxd4,Nxd4,Nxd4,Bxd4,Bb4,e5,Ne4,c3,Ba5,Nxe4,Qc7,Bd3,O-O,O-O,d5,Nd6,Bb6,Qh5,h6,Bc2,Bxd4,cxd4,Qxc2,Rac1,Qxb2,Rfe1,Qxd4,Re3,f5,exf6,Qxf6,Rf3,Qe7,Rxf8+,Qxf8,Rc7,Qxd6', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/Pl9U9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PlAiJ', 'Bullet', 'towrak', 1588, 'StefanJM', 1587, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,O-O,Bg5,Re8,Qd2,h6,Bh4,Be7,O-O-O,a5,g4,a4,g5,hxg5,Nxg5,a3,b3,Nd4,Bxf7+,Kf8,Bxe8,Nxe8,Nh7+,Kg8,Bxe7,Qxe7,Ng5,d6,Rhg1,Nf6,Nb5,Nxb5,Qe2,Nc3,Qf3,Nxd1,Kxd1,Bg4,Rxg4,Nxg4,Qxg4,Kf8,Nh7+,Ke8,Qg6+,Qf7,Qg4,Rd8,Kd2,Qxf2+,Kc3,Rd7,h4,Rf7,Qc8+,Ke7,Qxc7+,Ke6', 'Ng5+,Kf6,Qxf7#', 'https://lichess.org/training/PlAiJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('plaM2', 'Rapid', 'VitoJanko', 1746, 'Borisbenor', 1763, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,h6,a3,c5,Bc4,a6,Qf3,Qf6,Qxf6,Nxf6,O-O,d6,Bf4,Be7,Re1,O-O,Nd2,b5,Ba2,Bb7,e5,dxe5,Bxe5,Bd5', 'Bxf6,Bxf6,Bxd5', 'https://lichess.org/training/plaM2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PLbiq', 'Classical', 'SimonDinnigan', 1693, 'MDS_10', 1659, 'e4,e5,d4,exd4,Nf3,c5,c3,dxc3,Nxc3,Nf6,e5,Qe7,Be3,b6,exf6,Qxf6,Bc4,Bb7,Bd5,Bxd5,Nxd5,Qc6,Ne5,Qd6,Bf4,f6,Ng6,Qe6+,Ne5,Bd6,O-O,fxe5,Bg5,O-O,Qb3,Nc6,Rae1,Rae8,f4,Nd4,f5,Rxf5,Rxf5,Qxf5', 'Ne7+,Kh8,Nxf5', 'https://lichess.org/training/PLbiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('plbX2', 'Rapid', 'sajal85', 1700, 'krake', 1880, 'e4,c5,d3,d6,Nf3,Nc6,Be2,Nf6,Nc3,a6,O-O,b5,Nd5,Nxd5,exd5,Nb4,Qd2,Nxd5,c4,Nf6,d4,bxc4,Bxc4,d5,Bb3,e6,dxc5,Bxc5,Qc2,Bd6', 'Qc6+,Bd7,Qxd6', 'https://lichess.org/training/plbX2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pldCD', 'Rapid', 'stob1', 2019, 'Zote_M', 2251, 'e4,c5,Nc3,Nc6,g3,Nf6,Bg2,e5,Nf3,Be7,d3,O-O,O-O,d5,Bd2,d4,Ne2,Bg4,Ne1,Qd7,f3,Bh3,f4,Bxg2,Kxg2,c4,Nf3,exf4,Nxf4,Rfe8,b3,c3,Be1,b5,a4,b4,Bf2,Rad8,Ne2,Bc5,Qc1,Ng4,Bg1,h6,Qf4,Nge5,Rae1,Re6,h3,Nxf3,Qxf3,Ne5,Qh5,Bb6,Nf4,Rf6,Nd5,Rxf1,Rxf1,Ng6,Bh2,Qe6,g4,Re8,Qf5', 'Nh4+,Kg1,Nxf5', 'https://lichess.org/training/pldCD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pldo8', 'Blitz', 'skafschaakman', 1658, 'maximilianocm', 1689, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e5,Nf3,exd4,Nxd4,Nf6,Nc3,Bb4,f3,Qb6,Nxc6,bxc6,Bd2,d5,exd5,cxd5,a3,Bc5,Qe2+,Be6,Qb5+,Qxb5,Bxb5+,Ke7,Bg5,h6,Bxf6+,Kxf6,O-O-O,d4', 'Ne4+,Ke7,Nxc5,Rhc8,b4', 'https://lichess.org/training/pldo8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pLDSq', 'Rapid', 'Lichtbringer', 2026, 'Sailor7', 2056, 'd4,e6,e4,d5,exd5,exd5,c4,Nf6,Nc3,Be7,Nf3,O-O,Be3,Nc6,Rc1,a6,cxd5,Nb4,Bd3,Bg4,a3,Nxd3+,Qxd3,Bxf3,gxf3,Nxd5,Nxd5,Qxd5,Rxc7,Qxf3,Rg1,Bh4', 'Rxg7+,Kxg7,Bh6+,Kxh6,Qxf3', 'https://lichess.org/training/pLDSq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pleYP', 'Rapid', 'MYoWNlaw', 1835, 'sammynator', 1763, 'e4,g6,d4,Bg7,c3,c6,Be3,d5,Nd2,Nf6,e5,Nfd7,f4,Qc7,Ngf3,c5,Bb5,a6,Bxd7+,Bxd7,Rc1,c4,O-O,Nc6,b3,b5,a4,Bg4,b4,O-O,a5,f6,Qc2,Bf5,Qd1,Bh6,h3,fxe5,dxe5,Bd3,Rf2,Bxf4,Bb6,Qb8,Bd4,Nxe5,Bxe5,Bxe5,Nxe5,Qxe5,Nf3,Qe3,Qe1,Qxe1+,Rxe1,Rae8,Rd2,h6,Ne5,Rf6,Nxd3,cxd3,Rxd3,e6,Rde3,Kf7,Re5,Rf5,R5e3,Kf6,Kh2,Rg5,g4,e5,Kg3,e4,Rf1+,Ke5,Rf7,Re6', 'h4,Rxg4+,Kxg4', 'https://lichess.org/training/pleYP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('plfMh', 'Classical', 'Pleymmm', 1660, 'fortima-biz', 1644, 'e4,d5,f3,dxe4,fxe4,f6,Nf3,e5,Nc3,Bg4,h3,Bxf3,Qxf3,Bb4,Bc4,Bxc3,Qxc3,Qd4,Qb4,Qxe4+,Kd1,Nd7', 'Bf7+,Kxf7,Qxe4', 'https://lichess.org/training/plfMh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PlFNP', 'Rapid', 'lotus5', 1631, 'MeShock2', 1667, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be3,Bg4,Qd2,Bxf3,gxf3,Re8,Bh6,Bh8,e5,dxe5,O-O-O,exd4,Ne4,Nc6,Bd3,Nxe4,Bxe4,Qd6,Rhg1,Red8,h4,Qe5,Rg5,Qe6,Rdg1,Qxc4+,Kb1,Ne5,h5,Rd6,f4,Rc6,fxe5,a5,Bxc6,bxc6,hxg6,fxg6,Rxg6+,hxg6,Rxg6+,Kf7,Qf4+,Kxg6,Qg5+,Kf7,Qf5+,Kg8', 'Qg6+,Bg7,Qxg7#', 'https://lichess.org/training/PlFNP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PLGIs', 'Rapid', 'Indisguise_uk', 2094, 'Liosha-1978', 2218, 'd4,Nf6,Bf4,d6,e3,g6,Nc3,Bg7,Qd2,c6,h4,O-O,e4,b5,Bh6,b4,Nd1,Nxe4,Qe3,d5,Bxg7,Kxg7,h5,Rh8,Nf3,h6,hxg6,fxg6,Ne5,Qd6,Bd3,Bf5,g4,Bxg4,Nxg4,Nd7,Rxh6,Ndf6,Rxh8,Rxh8,Nxf6,Rh1+,Bf1,exf6,Qf3', 'Rxf1+,Kxf1,Nd2+,Ke2,Nxf3', 'https://lichess.org/training/PLGIs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pLgy0', 'Rapid', 'silveirachess', 1613, 'Dylan-09', 1652, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bg4,Be2,Bxf3,Bxf3,Nf6,d3,d5,Bg5,d4,c3,Bc5,cxd4,Bxd4,Nc3,O-O,Rb1,Bxc3,bxc3,b6,Qa4,Qd6,Rbd1,a6,d4,b5,Qb3,exd4,cxd4,Nxd4,Qe3,Nxf3+,Qxf3,Qe6,Bxf6,gxf6,Qg3+,Kh8,Qxc7,Qxe4,Rfe1,Qc4,Qd6,Qh4,Re3,Rfd8', 'Qxd8+,Rxd8,Rxd8+,Kg7,Rg3+', 'https://lichess.org/training/pLgy0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pLGzp', 'Rapid', 'Henzdenkarik', 1740, 'epic5475', 1931, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Nb5,Qb4+,c3,Qa5,a4,c6,Nd6+,Ke7,Qh5,g6,Qh6,c5,Qg7,Rf8,Bb5,cxd4,b4,Qc7,Rc1,Nxe5,Qxe5,Qxd6,Qxd6+,Kxd6,cxd4,Bd7,Bxd7,Nxd7,Nf3,Rac8,Kd2,Nb6,a5,Nc4+,Kd3,f6,Nd2,Nxd2,Kxd2,e5,f3,e4,fxe4,dxe4,Ke3,f5,Kf4,Rxc1,Rxc1,Rf7,Rc5,Rc7,h4,Rxc5,dxc5+,Kc6,g3,Kb5,Ke3,Kxb4', 'a6,bxa6,c6', 'https://lichess.org/training/pLGzp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('plhLx', 'Bullet', 'antarayatish', 1703, 'Che-2606', 1744, 'e4,e6,d4,c5,d5,e5,c4,d6,Nf3,Nf6,Nc3,g6,Be2,Bg7,Bg5,h6,Bh4,O-O,O-O,Bg4,a4,Bxf3,Bxf3,Nbd7,Qd2,a6,Bg3,Nh7,a5,f5,exf5,gxf5,h3,Ng5,Rae1,Nxf3+,gxf3,f4,Bh2,Qh4,Ne4,Rf5,Kh1,Qxh3,Rg1,Qxf3+,Rg2,Kh7,Nxd6,Rh5,Qc2+,Kg8,Qg6,Rg5,Qf7+,Kh8,Rg1,Nf6,Qe6,Rf8,Nf7+,Rxf7,Qxf7,Ng4,Qe8+,Kh7,Rf1,Rh5,Kg1,Rxh2,Rxh2,Nxh2,Kxh2,Qg4,Rg1,Qh4+,Kg2,f3+,Kf1', 'Qxc4+,Ke1,Qc1#', 'https://lichess.org/training/plhLx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PlhsC', 'Rapid', 'paullambert', 1706, 'hoping', 1708, 'd4,d5,Nf3,c5,Bf4,e6,e3,Bd6,Bg3,Nf6,Nbd2,b6,c3,a6,Ne5,Bc7,Be2,Nbd7', 'Nc6,Bxg3,Nxd8', 'https://lichess.org/training/PlhsC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pLi0i', 'Rapid', 'skd98', 1656, 'tarheel1', 1616, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bd3,O-O,O-O,Bd7,Qd2,Bc6,Bh6,e5,Nde2,Ng4,Bxg7,Kxg7,h3,Nf6,f4,exf4,Nxf4,Nbd7,Rae1,Qb6+,Kh1,Qxb2,Bc4,Qb4,Bxf7,Kxf7,Nd3,Qb6,Qh6,Kg8,Nf4,Ne5', 'Ne6,Rf7,Rxf6', 'https://lichess.org/training/pLi0i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('plIjr', 'Blitz', 'bigfootjohn', 1920, 'Teoribesatt', 2080, 'e4,c5,d4,cxd4,Nf3,e5,Bd3,Nc6,Bg5,f6,Bh4,h5,Bb5,g5,Bg3,h4,Bxc6,dxc6,Nxe5,hxg3,Ng6,Rxh2,Rxh2,gxh2,Qh5,Bd6', 'Ne5+,Kf8,Qf7#', 'https://lichess.org/training/plIjr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Plmvm', 'Classical', 'yemidaniel', 1713, 'rakeshkumar90', 1704, 'e4,e6,a3,d5,exd5,exd5,d4,Nf6,Nf3,c6,Nc3,Be6,Be3,Bd6,h3,b5,Ng5,Nbd7,Nxe6,fxe6,Bg5,O-O,Qe2,a5', 'Qxe6+,Rf7,Qxd6', 'https://lichess.org/training/Plmvm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pLNgG', 'Rapid', 'nicozamparsen1', 2157, 'AKUBA_AI', 2067, 'e4,c5,Nf3,d6,Nc3,e6,d4,cxd4,Nxd4,Nf6,Be2,a6,O-O,Be7,Be3,b5,a3,Bb7,f3,Nbd7,Ndxb5,axb5,Nxb5,d5,e5,Nxe5,Bf4,Bd6,Nxd6+,Qxd6,Qd4,Nfd7,Bb5,Qc5,Bxd7+', 'Nxd7,Qxc5,Nxc5', 'https://lichess.org/training/pLNgG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PlNt0', 'Rapid', 'Manajee', 1687, 'oafysgbk', 1695, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,O-O,Be7,c3,Nf6,e5,Ng4,cxd4,d5,Bb5,h5,h3,Nh6,Bxc6+,bxc6,Bxh6,Rxh6,Nc3,Rg6,Kh1,Be6,Ne2,Qd7,Kh2,Rxg2+,Kxg2,Bxh3+,Kg1,Qg4+,Ng3,Bxf1,Kxf1,Qh3+,Ke2,Rb8,Rb1,f6,Kd2,h4,Nh5,g6,Nxf6+,Bxf6,exf6,Qf5,Qe1+,Qe4,Qxe4+,dxe4,Ng5,Kd7,b3,Rh8,Nxe4,h3,Ng3,Ke6,Re1+,Kxf6,Rh1,Ke6,Kd3,Kd5,f4,h2,Re1', 'Rh3,Re5+,Kd6,Re3,Rxg3,Rxg3,h1=Q', 'https://lichess.org/training/PlNt0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PLnTD', 'Rapid', 'hoangvantuyen', 1911, 'alireza8448', 1921, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Bf4,Nc6,Be2,Nd7,O-O,e5,dxe5,Ndxe5,Rc1,f5,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/PLnTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PLpVi', 'Rapid', 'CookieDesPres', 987, 'farshd', 964, 'e3,e5,Bb5,Nf6,Nc3,c6,Bc4,Na6,Nf3,Ng4,h3,Nxf2,Kxf2,b5,Bb3,c5,Nxe5,c4,Nxc4,bxc4,Bxc4', 'Qh4+,Kg1,Qxc4', 'https://lichess.org/training/PLpVi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('plQww', 'Blitz', 'eraclion', 1501, 'Malik-Sy', 1628, 'e4,c5,Nf3,a6,Be2,e6,O-O,d6,d3,Nd7,Nbd2,Qc7,b3,Ngf6,Bb2,Be7,c4,O-O,h3,b5,Rc1,Bb7,Rc2,Rad8,Qa1,Nb6,e5,dxe5,Bxe5,Qd7,Bh2,Ne8,Ne5,Qc8,Rd1,Bf6,Ndf3,Nd7,Qc1,Nxe5,Bxe5', 'Bxf3,Bxf6,Bxe2,Bxd8,Bxd1,Qxd1,Qxd8', 'https://lichess.org/training/plQww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PlREf', 'Rapid', 'GwArdan', 1806, 'prosta4ok', 1761, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Bg4,Be2,Nc6,O-O,Qd6,a3,h5,c4,Nf6,d5,Ne5,Bf4', 'Nxf3+,Bxf3,Qxf4', 'https://lichess.org/training/PlREf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PLs60', 'Bullet', 'lukiwda1000', 1780, 'ravi-s-goldstein', 1746, 'e4,g6,d4,Bg7,Nf3,d6,Bd3,Nf6,O-O,Nbd7,c3,O-O,Be3,a6,Nbd2,b5,Qc2,c5,e5,Ng4,Rae1,c4,Be4,Rb8,exd6,Nxe3,Rxe3,exd6,h3,Bb7,Rfe1,Bxe4,Rxe4,Nf6,R4e3,d5,Nh2,Qd7,Ndf3,Rfe8,Ne5,Qc7,a4,Ne4,f3,Ng3,f4,Nf5,R3e2,Bxe5,fxe5,Ng3,Rf2,Ne4,Rf4,bxa4,Qxa4,Re7,Qxa6,Rxb2,Ng4,Rc2,Qa8+,Kg7,Qxd5,Nxc3,Qf3,Qb7,d5,Qxd5,Rfe4,Nxe4,Rxe4,Rd2', 'Qf6+,Kg8,Nh6+,Kf8,Qh8#', 'https://lichess.org/training/PLs60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('plTfS', 'Rapid', 'east67', 2071, 'JohniStyle', 2015, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Be6,Bf4,Be7,Be2,Bf6,Qd2,Ne7,O-O-O,Qd7,f3,O-O-O,Kb1,Kb8,g4,h6,h4,Ng6,Bb5,c6,Bxd6+,Kc8,Be2,Be5,Qc1,Bxd6,f4,Nxf4,e5,Nxe2,Nxe2,Bxg4,Rxd6,Qe7,Nc3,Rxd6,exd6,Qxd6,Qe3,Rd8,Qxa7,Bf5,Qa8+,Kc7', 'Qa5+,Kb8,Qxf5', 'https://lichess.org/training/plTfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pLUmK', 'Blitz', 'intern1', 1750, 'yogitabora', 1636, 'e4,e6,Nf3,a6,d4,c6,c4,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,Be3,Be7,O-O,O-O,Qc2,b5,Bb3,Bb7,Ne5,g6,Rad1,Nbd7,f4,Nb6,a3,Nbd5,Nxd5,Bxd5,Bxd5,Nxd5,Nc6,Nxe3,Qe2,Qd6,Nxe7+,Qxe7,Qxe3,Rad8,d5,Qf6,dxe6,Rxd1,Rxd1,fxe6,b4,Qxf4,Qxe6+,Kg7,Qxa6', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/pLUmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pLwqY', 'Rapid', 'Meodihia123', 1666, 'king00007', 1675, 'd4,d5,c4,dxc4,e4,c6,Bxc4,b5,Bb3,e6,Nf3,f6,O-O,Bd6,e5,Bc7,exf6,gxf6,Re1,Ne7,Bxe6,Bxe6,Rxe6,Rf8,Bh6,Rf7,Nc3,Qd7,Qe2,Na6,Rd1,O-O-O,a4,Nb4,axb5,Nbd5,Nxd5,cxd5,Ra6,Nf5,Bd2,Re7,Qf1,Rde8,Rxa7,Qd6,Re1,Nh4,Rxe7', 'Nxf3+,Kh1,Qxh2#', 'https://lichess.org/training/pLwqY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pLwU7', 'Rapid', 'okkiikkii', 1751, 'Skarf_Ace', 1722, 'd4,d5,Nf3,Nc6,c4,Nf6,e3,Bg4,Nc3,e6,h3,Bh5,cxd5,exd5,Be2,Bb4,O-O,Qd6,a3,Bxc3,bxc3,O-O-O,a4,Ne4,Qd2,Nxd2,Bxd2,Bxf3,Bxf3,Na5,Rfb1,b6,e4,Nc4,Bg5,f6,e5,Qf8,exf6,gxf6,Bf4,Qf7,Bg4+,Kb7,a5,Kb8,Ra4,f5,Be2,Qd7,Ra2,Rhe8,Bxc4,dxc4,axb6,axb6', 'Rxb6+,Kc8,Ra8#', 'https://lichess.org/training/pLwU7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PlXQw', 'Classical', 'jonah5', 2180, 'nenex13', 1933, 'd4,d6,Nf3,Bg4,e4,Nd7,c4,e5,Be3,Ngf6,Nc3,Be7,b4,c6,a4,O-O,d5,Qc7,h3,Bh5,g4,Bg6,Nh4,Bxe4,Nxe4,Nxe4,Nf5,Rfe8,Qc2,cxd5,Bg2,Rac8,h4,Nb6,Rc1,Nxc4,Qd3,Nb2,Qb3,Nc4,O-O,g6,Nh6+,Kg7,g5,Qd7', 'Bxe4,dxe4,Rxc4,Rxc4,Qxc4', 'https://lichess.org/training/PlXQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pLxS2', 'Blitz', 'Lurish', 1901, 'Dignity-please', 2244, 'e4,Nc6,d4,e5,d5,Nce7,c4,Ng6,Nc3,Bc5,Nf3,d6,Bd3,Nf6,O-O,Bg4,h3,Bd7,Be3,O-O,a3,Qe7,b4,Bb6,Rc1,Nh5,Kh2,Nhf4,Re1,Nxd3,Qxd3,f5,c5,dxc5,bxc5,Bxc5,Bxc5,Qxc5,exf5,Bxf5,Ne4,Bxe4,Qxe4,Qd6,g3,Rf7,Re3,Raf8,h4,Ne7,Rd1,Nf5,Red3,Nd4,Nxd4,exd4,f4,Re7,Qxd4,Rfe8,R1d2,b6,Qb4,Qd7,d6,Re1,Qc4+,Kh8,dxc7,Rh1+,Kxh1', 'Qh3+,Kg1,Re1+,Kf2,Qf1#', 'https://lichess.org/training/pLxS2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pLyJA', 'Rapid', 'Dzelat1', 2009, 'youngmoney2299', 2101, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Be7,d4,exd4,Ne2,Nxe4,Nexd4,d5,Nxc6,bxc6,Bd3,O-O,Bf4,Bf6,c3,Bg4,Bxe4,dxe4,Qxd8,Rfxd8,Nd2,Bf5,O-O,Rd7,Nc4,g5,Be5,Bxe5,Nxe5,Rd6,f3,e3,Rfe1,Re6,Nc4,e2,Kf2,Rd8,Rxe2', 'Rxe2+,Kxe2,Bd3+,Ke3,Bxc4', 'https://lichess.org/training/pLyJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PLZMM', 'Rapid', 'GermanJoker', 1734, 'iampra', 1674, 'd4,d5,c4,c6,cxd5,Qxd5,Nc3,Qd8,e4,Nf6,h3,e6,a3,Bd7,Nf3,Be7,Ne5,O-O,Nxd7,Nbxd7,Be2,e5,d5,cxd5,exd5,Nc5,O-O,Bd6,Bg5,Rc8,Nb5,Be7,d6,Nce4,dxe7,Qxe7,Bxf6,Nxf6,Nxa7,Rc5,Nb5,Rd8,Qb3,e4,Rac1,Rg5,Rc7,Qe5,Qxf7+,Kh8,h4,Rg6,Rfc1,e3,Rc8,exf2+,Kf1,Ne8,Rxd8,Re6,Bc4', 'Qe1+,Rxe1,fxe1=Q#', 'https://lichess.org/training/PLZMM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('plZny', 'Rapid', 'Kalyvan777', 1979, 'Cawa58', 1975, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Nge7,Bd3,h6,O-O,Nf5,Bxf5,exf5,Nc3,Be6,a3,a6,b4,Be7,Be3,O-O,Na4,b5,Nc5,Bxc5,bxc5,f6,exf6,Qxf6,Bf4,g5,Be5,Nxe5,Nxe5,g4,f3,Qh4,g3,Qg5,f4,Qg7,c6,h5,Rf2,Ra7,Rc1,h4,Qd2,Rc7,Qa5,Rfc8,Qxa6,Qh6,Qxb5,hxg3,hxg3', 'Rh7,Rg2,Qh1+,Kf2,Qxc1', 'https://lichess.org/training/plZny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pm1rS', 'Rapid', 'aliyev-ali', 2142, 'Erik_H_Chess', 2148, 'e4,g6,d4,Bg7,c4,c5,Be3,Nc6,Nf3,cxd4,Nxd4,Nf6,Nc3,O-O,Be2,d6,f3,a6,Qd2,Nd7,O-O-O,h5,Nxc6,bxc6,Bh6,Qa5,Bxg7,Kxg7,g4,hxg4,fxg4,Ne5,h4,Be6,h5,Bxc4,hxg6,Rh8,Bxc4,Nxc4,Qd4+,Ne5,gxf7,Qc5,Qxc5,Nd3+,Kc2,Nxc5,b4,Ne6,g5,Kxf7,Rhg1,Rh2+,Rd2,Nd4+,Kc1,Rxd2,Rf1+,Kg7,Kxd2,Rh8,Ke3,e5,Kd3,Rh3+,Kc4,Rg3,Rf6,Kg8,Rxd6', 'Rxc3+,Kxc3,Nb5+,Kb2,Nxd6', 'https://lichess.org/training/Pm1rS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pM1ym', 'Rapid', 'strommen', 1826, 'lagodno', 1896, 'e4,e5,d3,Nc6,f4,d6,Nf3,Bg4,Nc3,Nf6,Be2,exf4,Bxf4,Be7,Ng5,Bxe2,Nxe2,O-O,Qd2,Nd7,O-O-O,Nde5,h4,Ng4,Ng3,Nce5,Nf5,Bf6,Qe2,h5,Bxe5,Bxe5,Ne3,Bf4,Kb1,Nxe3', 'Qxh5,Qxg5,hxg5', 'https://lichess.org/training/pM1ym');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PM28p', 'Blitz', 'Tulok58', 2349, 'hurovsky', 2296, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,Bg7,c3,O-O,Nc2,f5,exf5,Bxf5,Nce3,Bg6,a4,bxa4,Rxa4,a5,h4,h5,Bd3,f5,g4,e4,gxf5,exd3,fxg6,d2+,Kxd2,Rxf2+,Kc1,Ne5,Qxh5,Nd3+,Kb1,Rb8,Nd1,Qe8,Nxf2', 'Rxb2+,Ka1,Qxa4#', 'https://lichess.org/training/PM28p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pm3de', 'Blitz', 'TheTwelfthKnight', 2101, 'BentMinney', 1955, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Nxc3,bxc3,e6,Nf3,Be7,Bd3,O-O,O-O,Nd7,Re1,Nf6,Ne5,b6,Qf3,Rb8,Bg5,Bb7,Qh3,h6,Re3,c5,Rg3,Be4,Bxf6,Bxf6,Bxe4,Bxe5,dxe5,f5,exf6,Qxf6,Rf1,Rbd8,Rg6', 'Qxf2+,Rxf2,Rd1+,Rf1,Rdxf1#', 'https://lichess.org/training/Pm3de');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pM4m6', 'Blitz', 'FM Orlov_Oleg', 2463, 'Debu_Chess', 1851, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Nc3,Nge7,O-O,O-O,a3,Bxc3,bxc3,d5,exd5,Nxd5,Qd3,Nf6,Bg5,Qd6,Bxf6,Qxf6,d5,Ne5,Nxe5,Qxe5,Rfe1,Qf6,Re3,Bf5,Qe2,Bg6,Qf3,Qd6,Bd3,Rad8,Bxg6,Qxg6,Rd1,Rd6,Qe4,Qxe4,Rxe4,Rfd8,Red4,g6,c4,c6,c5,Rxd5,Rxd5,Rxd5,Rc1,Kg7,Kf1,Kf6,Ke2,a6,Ke3,Rh5,h3,Rd5,f4,h6,g4,g5,fxg5+,hxg5,Ke4,Kg6,Rc3,f5+,gxf5+,Rxf5,Kd4,Rf4+,Ke5,Rf5+,Kd6,Rf7,a4,Rf6+,Kc7,Rf7+,Kc8,Kh5,Rb3,Kh4,a5,Re7,Rxb7,Rxb7', 'Kxb7,Kxh3,Kxc6', 'https://lichess.org/training/pM4m6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pm5HT', 'Rapid', 'Pietro6', 1924, 'berryx2', 2011, 'e4,c6,d4,d5,exd5,cxd5,c4,dxc4,Bxc4,Bf5,Nf3,e6,Bb5+,Nd7,Ne5,Nf6,Bg5,a6', 'Bxd7+,Nxd7,Bxd8', 'https://lichess.org/training/Pm5HT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pM86z', 'Classical', 'TheBifurcator', 1644, 'Ars2009', 1829, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,h3,Bf5,Be3,e6,Bd3,Bxd3,Qxd3,c6,Bg5,Be7,Ne4,Nxe4,Bxe7,Nxf2,Kxf2,Qxe7,Nf3,Nd7,Rhe1,O-O,Ne5,Nxe5,dxe5,Rad8,Qe3,Rd5,Qxa7,Rfd8,Kg1,Qb4,b3,Rd2,c4,b6,Qa4,Qc5+,Kh1,Qf2,Rg1,h6,Qxc6,R8d3,Qa8+,Kh7,Qe4+,g6,Raf1', 'Rxh3+,gxh3,Qh2#', 'https://lichess.org/training/pM86z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pM9AG', 'Rapid', 'fdemirbas', 1742, 'nilchess', 1834, 'e4,d5,Nf3,dxe4,Ng5,Nf6,d3,h6,Nxe4,Nxe4,dxe4,Qxd1+,Kxd1,Nc6,Bb5,Bg4+,f3,O-O-O+,Bd2,Bd7,Nc3,e6,Ke2,Bc5,Rhd1,a6,Ba4,b5,Bb3,Nd4+,Kf1,Nxb3,axb3,Kb7,Ra2,Bc6,Ke2,Kb6,Rda1,Bb7,e5,Rd7,Ne4,Bd4,Be3,Bxe3,Kxe3,Rhd8,b4,Rd5,f4,Rd4,Nc5,Rd2,Nxb7,Kxb7,Rxa6,Rxc2,Ra7+,Kc8', 'Ra8+,Kb7,Rxd8', 'https://lichess.org/training/pM9AG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PmAiq', 'Rapid', 'a-p1364', 1757, 'eeee14', 1713, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Nf3,c5,Bb5+,Nc6,Qe2+,Be6,dxc5,Bxc5,h3,Qb6,O-O,d4,Bxc6+,bxc6,Ne4,Nxe4,Qxe4,O-O,a3,Rfe8,Qd3,Bd5,b4,Bxf3,bxc5,Qxc5,Qxf3,Qxc2,Bf4,Rac8,Bd6,Qg6,Bg3,c5,Rac1,c4,Qf4,Red8,Rfd1,Qb6,Bh4,f6,Bg3,c3,Qe4,Qc5,Qe6+,Kh8,a4,d3,Bf4,d2,Bxd2,Rxd2,Rxd2,cxd2', 'Qxc8+,Qxc8,Rxc8#', 'https://lichess.org/training/PmAiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pmaJB', 'Rapid', 'ZahraMF', 1662, 'adamsztum', 1661, 'e4,e5,Nf3,Nc6,d3,d6,g3,Be7,Bg2,Bg4,O-O,Qd7,c4,h6,Nc3,Nf6,Nd5,Nxd5,cxd5,Nd4,h3,Nxf3+,Bxf3,Bxh3,Re1,Bg5,Bh5,g6,Bf3,f5,Kh2,fxe4,dxe4,Bxc1,Rxc1,g5,g4,h5,Be2,hxg4,Bb5,c6', 'dxc6,bxc6,Bxc6', 'https://lichess.org/training/pmaJB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PMaOi', 'Classical', 'Wolfpack1051', 1687, 'DrHangman', 1846, 'e4,c5,Nc3,g6,d4,cxd4,Qxd4,Nf6,Be3,Nc6,Qd2,Bg7,Nf3,O-O,h3,d6,Bh6,Qa5,Bc4,Nxe4,Nxe4,Qxd2+,Nfxd2,Bxh6,h4,Bg7,h5,Bxb2,Rb1,Bd4,hxg6,hxg6,Ng5,e6,Ndf3,Bc3+,Ke2,Nd4+,Nxd4,Bxd4,Rh2,Bf6,Nh7,Bg7,Rbh1,Rd8,Ng5,d5,Bd3,f6,Nh7,Kf7,Rh3,Bd7,Rg3,f5,Ng5+,Kf6,Nh7+,Ke7,Rxg6,Be5,Ng5,Kd6,Rhh6,Re8', 'Nf7+,Kc7,Nxe5', 'https://lichess.org/training/PMaOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pMaxm', 'Blitz', 'bsa-waldemar', 2221, 'FM SillyManofwar', 2292, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,g6,Nc3,Bg7,Bd2,Nf6,O-O-O,O-O,h3,d6,f4,Nh5,g4,Nf6,Nf3,Re8,Re1,d5,Qd3,dxe4,Nxe4,Nxe4,Rxe4,Rxe4,Qxe4,Be6,Bc4,Nd4,Nxd4,Bxc4,Bc3', 'Bd5,Qe3,Bxh1', 'https://lichess.org/training/pMaxm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PMcZP', 'Rapid', 'felipebpassos', 1843, 'Prithujain', 1859, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Nxe4,Bd3,Nc5,Bb5,Be7,O-O,O-O,Bxc6,bxc6,Nc3,d6,Bf4,Ne6,Bg3,Ba6,Re1,d5,Ne2,c5,Qd2,d4,Rad1,Ng5,Qf4,Ne6,Qe4,Ng5,Nxg5,Bxg5,Qc6,Bc4,b3,Bxe2,Rxe2,Be7,e6,f5,Bxc7,Qc8,Qd7,Qe8,Bd6', 'Qxd7,exd7,Bxd6', 'https://lichess.org/training/PMcZP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PmcZQ', 'Classical', 'youness1982', 1625, 'brook7777', 1608, 'e3,e5,b3,d5,Bb2,Nc6,d4,e4,f3,Bf5,Bb5,a6,Bxc6+,bxc6,g4,Bg6,f4,f5,g5,h6,h4,hxg5,fxg5,Bh5,Qd2,Bd6,Qf2,Bg4,Nd2,c5,c4,Qe7,cxd5,f4,dxc5,fxe3,Qxe3,Bxc5,Qxe4,Qxe4+,Nxe4,Bb4+,Kf2,Rh7,Rc1,O-O-O,a3,Rf8+,Kg3,Bf5,Rf1', 'Bxe4,Rxf8+,Bxf8', 'https://lichess.org/training/PmcZQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pmdu2', 'Rapid', 'kris3ds', 1773, 'DaliFischer09', 1716, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Bc4,e6,Nc3,Nf6,Bg5,Be7,Qd2,Nbd7,O-O-O,h6,Be3,O-O,f3,Nc5,g4,Bd7,g5,hxg5,Bxg5,Qe8,Rhg1,b5,Bh6,Nh5,Be2,b4,Nb1,Kh7,Be3,e5,f4,exf4,Bxf4,g6,Bxh5,gxh5,Nf5,Nxe4,Rg7+,Kh8,Qd4,Bf6,Qg1,Bxf5,Bh6,Bg6,Rxg6,fxg6,Bxf8,Qxf8,Qxg6,Qg7,Qxh5+,Kg8', 'Qd5+,Kh7,Qxe4+', 'https://lichess.org/training/pmdu2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PmEHE', 'Blitz', 'author20', 1699, 'Altantulga', 1703, 'd4,d5,c4,e6,e3,Nf6,Nc3,Be7,Bd3,O-O,Nf3,dxc4,Bxc4,a6,a4,Bb4,Bd2,a5,O-O,b6,Qc2,Bb7,Ne5,Nbd7,Bd3,g6,Nf3,Bxf3,gxf3,Nh5,e4,Qh4,e5,f5,Be3,f4,Bd2,Qh3,Be4,Ng7,Kh1,Rae8,Rg1,Rf5,Rg4,Ref8,Rag1,Rh5,R4g2,Rh4,Bxg6,hxg6,Qxg6,Rf7,Qe4,Kf8,d5,Nh5,dxe6,Ng3+,fxg3,fxg3,exf7', 'Qxh2+,Rxh2,Rxh2#', 'https://lichess.org/training/PmEHE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pmfse', 'Blitz', 'CM imzchessacademy2020', 2160, 'indiomiguel', 2187, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Bc4,Be7,O-O,b5,Bd3,Qb6,Be3,Qc7,a3,Bb7,f4,Nbd7,g4,Nc5,g5,Nfxe4,Nxe4,Bxe4,Bxe4,Nxe4,Qf3,d5,c3,Rc8,h4,g6,Rae1,Nd6,Bc1,Nc4,h5,Kd7,h6,Bc5,Rd1,Bxd4+,Rxd4,Nd6,Rfd1,Rhd8,Rxd5,exd5,Rxd5,Qc6,Qd3,Kc7,Qd4,Kb7,Be3,Nf5', 'Qa7#', 'https://lichess.org/training/pmfse');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PmGa7', 'Rapid', 'wabwab', 1750, 'HBlack-BURNE', 1729, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Be7,d4,cxd4,Nxd4,Nf6,Nf3,O-O,e5,Ng4,Qe2,d6,exd6,Bxd6,Bg5,Qb6,b3,Bc5,O-O,Nge5,Nxe5,Nxe5,Na4,Qd6,Rad1,Qc7,Bf4,Bd6,Rxd6,Qxd6,Bxe5,Qe7,Qg4,f6,Bd4,a6,Bc5,Qe8,Bxf8,Qxf8,Bxe6+,Bxe6,Qxe6+,Kh8,Nc3,Qb4,Nd5,Qh4,Re1,Qh5,Nf4,Qb5,g3,h6,Ng6+,Kh7,Qg4,Qa5,Rd1,Qxa2,Ne7,Qxc2,Nf5,Rg8,Ne7,Re8,Rd7,b5,Nf5', 'Re1+,Kg2,Qc6+', 'https://lichess.org/training/PmGa7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pMgeT', 'Rapid', 'unssa', 1888, 'carbone144', 1852, 'Nf3,d5,d4,c5,dxc5,Bf5,e4,Bxe4,Nc3,Bxf3,Bb5+,Nc6,Qxf3,e6,Be3,Rc8,O-O-O,Nf6,Bd4,Be7,b4,O-O,Bxc6,Rxc6,g4,b6,g5,Nd7,cxb6,axb6,a3,Qa8,Kb2,Rfc8,Rhe1,e5,Qxd5,exd4,Rxe7,Rxc3', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/pMgeT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pMHYE', 'Rapid', 'Pankaj49', 1607, 'calddyoti', 1607, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nf6,Qe6,Nd4,Qh3,Nxc2+,Kd1,Nxa1,Qe6,Qa5,Nf7,Rg8', 'Nxd6+,Kd8,Nxb7+', 'https://lichess.org/training/pMHYE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PMIkr', 'Classical', 'Kegr', 1691, 'z07', 1697, 'e4,e6,d4,Qh4,Nc3,Bb4,Bd3,c6,Nf3,Qd8,Bd2,h6,a3,Bd6,Qe2,Na6,O-O-O,Nc7,d5,cxd5,exd5,Ne7,dxe6,Nxe6,Rdg1,a6,h4,b5,Be4,Rb8,g4,b4,axb4,Bxb4,Nd5,Bxd2+,Qxd2,Nxd5,Bxd5,Qb6,b3,Qc5,Re1,a5,Bxe6,Qa3+,Kb1,dxe6,Qf4,Rb4,Qd6', 'Rxb3+,cxb3,Qxd6', 'https://lichess.org/training/PMIkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PMINO', 'Blitz', 'AlvaroSalva04', 2510, 'IM purzelbaumer', 2402, 'e4,c5,Nf3,Nc6,Bb5,e6,c3,Nge7,d4,cxd4,cxd4,a6,Ba4,b5,Bb3,d5,Nc3,Na5,Bc2,Bb7,O-O,b4,Na4,dxe4,Nc5,exf3,Nxb7,Qb6,Nxa5,Qxa5,Qxf3,Nd5,Bb3,Be7,Qg4,O-O,Bh6,Bf6,Rac1,Rfd8,Rc5,Qb6,Bxd5,Rxd5,Rxd5,exd5,Be3,Qe6,Qf3,Rc8,b3,g6,Re1,h5,Kf1,Qc6,Bd2,Kg7,Bxb4', 'Qb5+,Qe2,Qxb4', 'https://lichess.org/training/PMINO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pMk9Y', 'Blitz', 'theunrealcora', 1645, 'Caesium', 1634, 'd4,d5,c4,dxc4,e3,Bf5,Bxc4,e6,Nc3,Nf6,Nf3,a6,O-O,b5,Be2,Nc6,Nh4,Be7,Nxf5,exf5,Bf3,Qd6,b3,O-O,a4,b4,Na2,Rad8,Bxc6,Qxc6,Nxb4,Bxb4,Bd2,Bxd2,Qxd2,Ne4,Qd3,Qc3,Qxa6,Qxb3,Qa5,Ra8,Qxf5,Nd2,Rfd1,Rxa4,Rac1,Nc4,Rb1,Qa2,Qb5,Rfa8', 'Qb8+,Rxb8,Rxb8#', 'https://lichess.org/training/pMk9Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PMLZR', 'Classical', 'Czeslaw62', 1857, 'recep63', 1857, 'd4,c5,d5,d6,c4,e6,Nc3,exd5,cxd5,Nf6,e4,Qa5,Bd2,Be7,Bd3,Nbd7,Nf3,a6,O-O,Ne5,Nxe5,dxe5,f3,Bd7,Rc1,c4,Bxc4', 'Qc5+,Rf2,Qxc4', 'https://lichess.org/training/PMLZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PMMpH', 'Rapid', 'Sso-2-MRK-taheri', 1744, 'gianyrox77', 1709, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bc4,Bc5,Nxc6,bxc6,O-O,O-O,Bg5,h6,Bh4,g5,Bg3,d5,exd5,exd5,Bb3,Re8,Re1,a5,Rxe8+,Qxe8,Ba4,Ba6,Qf3,Qe6,Bb3,Re8,h3,h5,Kh1,g4,hxg4,Qxg4,Qxf6,Re6,Qd8+,Kg7,Qd7', 'Re1+,Rxe1,Qxd7', 'https://lichess.org/training/PMMpH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PmNRd', 'Rapid', 'muhyett', 1895, 'RealMalyar', 1916, 'd4,c6,c4,d6,e4,h6,Nc3,g5,Be2,Bg7,Be3,Qb6,b3,Qa5,Qd2,c5,Nf3,g4,Nh4,cxd4,Bxd4,Bxd4,Qxd4,Nf6,O-O,Nc6,Qd3,Nb4,Qd2,Nc6,Rfd1,Ne5,Kf1,Qb6,Nd5,Nxd5,exd5,g3,fxg3,Bg4,Bxg4,Nxg4,h3,Nh2+,Ke2,O-O-O,Rh1,Rdg8,Qd3,Rg5,Rxh2,Re5+,Kd2,Qb4+,Kc2,Rg8,g4,Reg5,Nf5,Kb8,Nxe7,R8g7,Nf5,R7g6,Rhh1,h5,Rhe1,hxg4,Re8+,Kc7,Ne7,Rg7,h4,Re5,Nf5,Rxe8,Nxg7,Rg8,Nf5,Qc5,Qd4,Qb4,Rf1,Qa3,Qb2,Qc5,Qd4,Qa3,Ra1,Re8,g3,Re2+,Kd3,Re5,h5,Rxf5,h6,Rh5,Qf6,Rh3,Qxf7+,Kb6,Qf2+,Kc7,Re1,a6,Re7+,Kb8,Qf8+,Ka7,h7,Rxg3+,Ke4,Qxa2,h8=Q,Qc2+,Kf4,Rf3+,Kxg4', 'Qg2+,Kh5,Rh3#', 'https://lichess.org/training/PmNRd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pmpNo', 'Blitz', 'Kaannrou', 1647, 'JMmath', 1659, 'd4,d5,e3,Nf6,c4,Bf5,Nc3,e6,Nf3,a6,Qb3,b6,Qa4+,c6,Ne5,Qd6,c5,bxc5,e4,Nxe4,Bf4,Nxc3,bxc3,c4,Rb1,Be7,Rxb8+,Rxb8,Nxc6,Rb1+,Ke2,Qxf4,Ne5+,Kf8,Nd7+,Ke8', 'Nf6+,Kd8,Qd7#', 'https://lichess.org/training/pmpNo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PMRmJ', 'Rapid', 'Chess_ronal2001', 1948, 'bjusifov', 1933, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bd3,O-O,h4,h5,e5,dxe5,dxe5,Ng4,Bg5,Nc6,Qd2,Be6,O-O-O,Ncxe5,Nxe5,Nxe5,Bh6,Nxd3+,cxd3,Qd4,Be3,Qd7,f3,Rfd8,g4,a5,gxh5,gxh5,Rhg1,Kh7,d4,Bf5,Ne4,b6,Ng5+,Kg8,Ne4,Bg6,Rg5,Bh6', 'Rxg6+,fxg6,Bxh6', 'https://lichess.org/training/PMRmJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PmrNC', 'Blitz', 'Sneakytactics2600', 1572, 'Rome306508', 1628, 'e3,e5,c4,Nc6,Nc3,Nf6,d4,exd4,exd4,Bb4,Nf3,O-O,Bd3,Bxc3+,bxc3,d6,O-O,h6,h3,Bd7,Rb1,b6,Bc2,Qc8,Qd3,g6,Bxh6,Bf5,Qd2,Bxc2,Qxc2,Re8,d5,Ne7,Nh4,Kh7,Qd2,Ne4,Qf4,Nxc3,Rb3,Ne2+,Kh2,Nxf4,Bxf4,Nf5,Nf3,a5,Ng5+,Kg7,g4,Nd4,Rd3,Ne2,Bd2,Qa6,Rf3,Qxc4,Rxf7+,Kh6,Ne6+,g5', 'Bxg5+,Kg6,Rg7#', 'https://lichess.org/training/PmrNC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pmRV5', 'Classical', 'j2018', 1874, 'Isaacus_Neutonuus', 1694, 'd4,d5,c4,e6,Nf3,Nf6,a3,Nbd7,cxd5,exd5,Nc3,Be7,e3,O-O,Bd3,c5,O-O,Nb6,h3,Be6,Re1,Rc8,e4,Re8,e5,Nfd7,Bc2,cxd4,Qd3,g6,Nb5,a6,Nd6,Bxd6,exd6,Qf6,Bg5,Qg7,Nxd4,Nc4,Be7,Nxb2,Qe4,Nc4,Nxe6,fxe6', 'Qxe6+,Qf7,Qxd7', 'https://lichess.org/training/pmRV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pMSGB', 'Rapid', 'Sreepada', 1951, 'Desaccorde', 1921, 'e4,b6,Nc3,Nf6,a3,Bb7,Nf3,Nxe4,Nxe4,Bxe4,Bc4,e6,Qe2,Bb7,d3,d5,Ba2,Be7,O-O,O-O,Bf4,c5,Ne5,Nd7,Nxd7,Qxd7,Qg4,Bf6,c3,g6,Bh6,Bg7,Bxg7,Kxg7,d4,cxd4,Qxd4+,Kg8,Rad1,Rad8,Qf6,Qc6,f3,Qc5+,Kh1,Rd6,Qf4,Re8,Bb3,e5,Qg3,d4,cxd4,exd4,f4,Rc8,f5,Rdc6', 'fxg6,Rxg6,Bxf7+,Kg7,Bxg6', 'https://lichess.org/training/pMSGB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pMU5i', 'Classical', 'Priestley', 1671, 'Richy3030', 1674, 'd4,d5,e3,Nc6,Nf3,Bf5,h3,Nf6,Nc3,Nb4,Bd3,Nxd3+,cxd3,e6,Nh4,Bb4,Nxf5,exf5,O-O,Bxc3,bxc3,O-O,c4,dxc4,dxc4,Re8,Qf3,g6,Qxb7,a5,Bb2', 'Rb8,Qa7,Rxb2', 'https://lichess.org/training/pMU5i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pMubk', 'Rapid', 'Oleg2468', 1640, 'lyuchessa', 1619, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nf5,Bxf5,exf5,Nf6,Bb5+,Nc6,Bg5,h6,Bh4,Be7,O-O,O-O,Nc3,a6,Bd3,Nd4,Bxf6,Bxf6,Ne4,Nxf5,Nxf6+,Qxf6,Be4,Nd4,c3,Qe6,Bxb7,Rab8,Bxa6,Nb5,a4,Nc7,Bd3,Rxb2,a5,c4,Bc2,d5,Qc1,Rfb8,a6,Nxa6,Re1,Qf6,h3,Qxc3', 'Bh7+,Kxh7,Qxc3', 'https://lichess.org/training/pMubk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PmuKM', 'Rapid', 'lux667', 1774, 'lsmkenpo', 1822, 'e4,g6,Nf3,Bg7,d4,d6,Bc4,h6,O-O,a6,Nc3,b5,Bd5,c6,Bb3,Bb7,e5,c5,dxc5,dxc5', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/PmuKM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pmwnc', 'Rapid', 'Rezaatharinia', 1723, 'Snyp', 1682, 'e4,c5,Nf3,d6,c3,Nf6,Qc2,Nc6,d4,cxd4,cxd4,g6,Bc4,Bg7,O-O,O-O,Re1,Bg4,Re3,Bxf3,gxf3,Nxd4,Qd3,Ne6,Nc3,Nf4,Qd1,N6h5,Nd5,e6,Nxf4,Nxf4,Rb3,Qg5+,Kf1,Qg2+,Ke1,Nh3,Qe2,b6,Qf1,Qxh2,f4,Rac8', 'Rxh3,Qxh3,Qxh3', 'https://lichess.org/training/Pmwnc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pMxRR', 'Blitz', 'erenizm', 1530, 'Ayusuf52', 1567, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bg5,Bg7,Qd2,h6,Bh4,O-O,f3,Kh7,g4,Nfd7,Bd3,e5,Nde2,Qxh4+,Ng3,Nc6,O-O-O,Nd4,Qf2,Nc5,f4,Qxg4,f5,Nxd3+,Rxd3,gxf5,h3,Qg5+,Kb1,f4,Nd5,fxg3,Rxg3,Qd8,Rhg1,Rg8,c3,Be6,cxd4,Bxd5,exd5,Qd7,Qc2+,Kh8,Qe4,Bf6,dxe5,Rxg3,Rxg3,Bxe5,Rg4,Rg8,Rh4,Rg6,Kc2,Qc8+,Kd3,a5,a4,b6,b3,Qc3+,Ke2,Qxb3,Qf5,Rg2+,Kf1,Qxd5,Rxh6+,Kg8', 'Qc8+,Kg7,Qh8#', 'https://lichess.org/training/pMxRR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PmY4N', 'Blitz', 'maxx17', 2177, 'IM MicFed', 2466, 'd4,Nf6,g3,e6,Bg2,d5,Nf3,b5,O-O,Bb7,c3,Nbd7,Bf4,c5,h4,Be7,a4,b4,Nbd2,O-O,Ne5,Nxe5,Bxe5,Nd7,Bf4,Bf6,e3,e5,dxe5,Nxe5,Nf3,Nxf3+,Bxf3,bxc3,bxc3,Ba6,Be2,Bxe2,Qxe2,Bxc3,Rac1,d4,Rfd1,Re8', 'Rxc3,dxc3,Rxd8', 'https://lichess.org/training/PmY4N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pMyD4', 'Rapid', 'Neverko', 1938, 'polymer3', 1891, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,Nf3,O-O,e3,Bg4,Be2,c6,Rc1,Nbd7,h3,Bf5,O-O,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Nd2,Nb6,Qb3,Qg5,Kh1,Be6,Qc2,f5,f3,exf3,Rxf3,Bxa2,b3,Nd5,Qxa2,Nxe3,g3,f4,h4,Qg4,Rxe3', 'Qh3+,Kg1,fxe3', 'https://lichess.org/training/pMyD4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pMZ2K', 'Rapid', 'Epoy2511', 2089, 'H4ldary', 2043, 'e4,g6,d4,Bg7,e5,c5,c3,cxd4,cxd4,d6,Nf3,dxe5,Be3,Bg4,Be2,Bxf3,Bxf3,Nc6,d5,Nd4,Bxd4,exd4,O-O,Nf6,Qxd4,O-O,Nc3,a6,Rad1,Rc8,Qb4,b5,Rfe1,Re8,d6,Rc4,dxe7', 'Qxd1,Rxd1,Rxb4', 'https://lichess.org/training/pMZ2K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PMzUX', 'Classical', 'xxxmcronin', 1777, 'Godcomplex11', 1778, 'd4,Nf6,c4,d5,e3,e6,Nc3,c5,Nf3,Nc6,Be2,Be7,O-O,O-O,h3,cxd4,exd4,b6,Re1,Bb7,Bf1,Re8,b3,Bb4,Bb2,Ne4,Rc1,Ne7,Ne5,Ng6,Qf3,Nxe5,dxe5,Rb8,Red1,Qg5,cxd5,Nxf2,Kxf2,Bc5+,Ke1,exd5,Nxd5,Rbd8,Qg4,Rxe5+,Bxe5,Qxe5+,Be2,Rxd5,Rxd5,Qxd5,Rd1,Qe5,Qc4,Bxg2,Rd8+,Bf8,Qc8,Qg3+', 'Kd1,g6,Rxf8+', 'https://lichess.org/training/PMzUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pn1ai', 'Rapid', 'juliocesar22', 1617, 'JGarbarek', 1643, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Nf6,Re1,Nc6,c3,a6,d4,exd4,cxd4,Bg4,d5,Ne5,Nbd2,Nxc4,Nxc4,Be7,h3,Bd7,e5,dxe5,Nfxe5,O-O,Nxd7,Qxd7,Ne3,Bc5,Qb3,b6,Bd2,Rae8,Rac1,Re5,Rcd1,Rfe8,Kf1,Nxd5,Nxd5,Rxd5,Rxe8+,Qxe8,Qxd5', 'Qb5+,Kg1,Bxf2+,Kxf2,Qxd5', 'https://lichess.org/training/Pn1ai');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pn1Vm', 'Blitz', 'tb1229', 1977, 'anja13', 1994, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,c4,Be2,Bd7,O-O,f6,exf6,Nxf6,Nbd2,Bd6,Qe1,O-O,Bd1,Rae8,Bc2,e5,dxe5,Nxe5,Nxe5,Bxe5,Qd1,Ng4,Nf3,Nxf2,Rxf2,Bxh2+,Kf1,Bg4,Qxd5+,Kh8,Qd4,Qe6,Bg5,Rxf3,gxf3', 'Bh3+,Rg2,Qe2#', 'https://lichess.org/training/pn1Vm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pn6Cu', 'Blitz', 'WIM theater', 2095, 'UchihaHAMADA', 2042, 'd4,g6,c4,Bg7,Nc3,d6,e4,Nf6,Be2,O-O,Nf3,Nc6,d5,Nb8,h3,e5,g4,Nbd7,Be3,Nc5,Nd2,a5,f3,c6,a3,Ne8,b4,axb4,axb4,Rxa1,Qxa1,Na6,Qa3,Qh4+,Bf2,Qe7,O-O,h5,Kg2,f5,c5,fxg4,fxg4,dxc5,bxc5,Qg5,Nf3,Qf6,Bh4,Qf7,Ng5,Qc7,d6,Qd7,Rxf8+,Bxf8,Bc4+,Kg7,Be6,Qd8,Qa2,Nxc5,Bxc8,Nxd6,Ne6+,Nxe6,Bxd8,Nxd8,Bd7,Kf6,Qf2+,Ke7,gxh5,Kxd7,Qxf8,gxh5,Qh6,b5,Qxh5,b4,Nb1,N8f7,Qg6,c5,h4,c4,h5,c3,h6', 'c2,Nd2,c1=Q', 'https://lichess.org/training/pn6Cu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pn6Ia', 'Classical', 'eldesoky', 1784, 'fprambo', 1697, 'd4,e6,e4,d5,e5,c5,Nf3,Qb6,Nc3,Nc6,Bb5,Ne7,Be3,Nf5,Bxc6+,bxc6,b3,cxd4,Bxd4,Nxd4,Qxd4,Bc5,Na4,Qa5+,Qc3', 'Bb4,Qxb4,Qxb4+', 'https://lichess.org/training/Pn6Ia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pn7o2', 'Rapid', 'yonathan1988', 1662, 'StreetM', 1886, 'e4,c5,Nf3,Nc6,d4,e6,dxc5,Bxc5,Bc4,Nf6,Nc3,Qb6,e5,Bxf2+,Kf1,Ng4,Ne4,Be3,Nd6+,Ke7,Qe2,Bxc1,Rxc1,Qxb2,Re1,Ncxe5,Nxe5,Nxe5,Nxc8+,Raxc8,Bb3,Ng6,h4,Qf6+,Kg1,Nf4,Qe4,b6,Rf1,e5,g3,Qg6,Rxf4', 'Qxg3+,Kf1,Qxf4+,Qxf4,exf4', 'https://lichess.org/training/Pn7o2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pnaq7', 'Rapid', 'faxe1243', 1753, 'capricornwon', 1766, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,O-O-O,O-O,f6,c3,g5,h3,Bh5,Nd2,Bxe2,Qxe2,f5,Nb3,Rg8,f3,g4,fxg4,fxg4,h4,e5,Bg5,exd4,Qxg4+,Rd7,Rf5,Ne5,cxd4', 'Nxg4,Rxd5,Rxd5', 'https://lichess.org/training/Pnaq7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pNBaw', 'Rapid', 'kourosh3591', 2078, 'lvlvlvl', 2112, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bxb5,Qxd5,Bxc6+,Qxc6,O-O,Bd6,Qf3,e4,Re1,Bb7,d3,O-O,dxe4,h6,e5,Qb5,Qg3,hxg5,exd6,cxd6,Qxg5,Qb6,b3,Ne4,Qh4,Rae8,Bb2,Nxf2,Rxe8,Rxe8,Bd4,Nh3+,gxh3,Qc6,Qg3', 'Qh1+,Kf2,Qe1#', 'https://lichess.org/training/pNBaw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pnbwp', 'Rapid', 'saranvelumani', 1784, 'Jason0918', 1784, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,O-O,Nf6,d4,exd4,cxd4,O-O,e5,Ne8,Bg5,Ne7,Qa4,Bb6,Nc3,d5,Nxd5,Bd7,Nxe7+,Kh8,Qb3,f6,exf6,gxf6,Ne5,Qxe7,Nxd7,Qxd7,Be3,Bxd4,Rad1,c5,Bc1,Nd6,Be6,Qg7,Qd5,Nb5,Rd3,Nc7,Qf5,Nxe6,Qxe6,Rae8,Qh3,Re2,Bh6,Qe7,Bxf8,Qxf8,Qf3,Re7,Qd5,Qg7,Rg3,Qf8,Rb1,Qe8,Rf1,Re1,Qxb7', 'Bxf2+,Kxf2,Qe2+,Kg1,Rxf1#', 'https://lichess.org/training/pnbwp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PncKL', 'Rapid', 'Baluba95', 1682, 'LedaUA', 1673, 'e4,e5,Nf3,Nc6,d4,Bd6,d5,Nb8,c4,Qf6,Nc3,Bb4,Bd2,d6', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/PncKL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pnDXd', 'Rapid', 'kam49', 1811, 'ssssssssss29012901', 1824, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Qe2,Bc5,O-O,O-O,c3,d6,b4,Bb6,h3,Be6,a4,a5,b5,Ne7,d4,Ng6,d5,Bd7,Bd3,Qe7,c4,Nh5,Nc3,Ng3,Qc2,Nxf1,Kxf1,Nh4', 'Bg5,f6,Bxh4', 'https://lichess.org/training/pnDXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PNel7', 'Blitz', 'catarrov', 1710, 'hasanwa', 1668, 'c4,c6,d4,d5,Nc3,Nf6,Nf3,g6,cxd5,cxd5,Bf4,e6,e3,a6,Bd3,Bg7,O-O,O-O,Re1,Re8,Rc1,Nh5,Bg3,Nxg3,hxg3,Nc6,a3,e5,Be2,exd4,exd4,Bg4,Qb3,Bxf3,Bxf3,Nxd4,Qxd5,Nxf3+,Qxf3,Rb8,b4,Rxe1+,Rxe1,Qd2,Re7,Qxc3', 'Qxf7+,Kh8,Re8+,Rxe8,Qxe8+,Bf8,Qxf8#', 'https://lichess.org/training/PNel7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pnems', 'Rapid', 'chien11110', 1647, 'BobBetts', 1792, 'e4,e5,c4,Nc6,Nc3,Bc5,g3,Qf6,Nf3,Nd4,Bg2,Ne7,O-O,O-O,d3,d6,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/Pnems');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pneOY', 'Rapid', 'mumps', 1701, 'matina53', 1692, 'c4,e5,Nc3,Nc6,e3,Nf6,Nf3,d5,cxd5,Nxd5,Bb5,Nxc3,bxc3,Bg4,h3,Bh5,Bxc6+,bxc6,Qa4,Qd5,Nxe5,Qxg2,Qxc6+', 'Qxc6,Nxc6,Bf3,Rg1,Bxc6', 'https://lichess.org/training/pneOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pneus', 'Rapid', 'Junior0810', 1614, 'kafka1924', 1529, 'd3,d5,e3,Nf6,b3,g6,Bb2,Bg7,Nd2,Nc6,Ndf3,Bg4,h3,Bd7,g4,e6,g5,Nh5,Bxg7,Nxg7,Qb1,O-O,Qb2,Nb4,a3,Nc6,Bg2,Qe7,Ne2,e5,h4,e4,dxe4,dxe4,Nfd4,Ne5,Rd1,Ne6,Nxe6,Qxe6,Bh3', 'Nf3+,Kf1,Qxh3+,Rxh3,Bxh3#', 'https://lichess.org/training/pneus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pNEZ6', 'Rapid', 'AreebabaAreebaba', 1691, 'kivi3', 1746, 'd4,d5,Nf3,Nc6,Bg5,h6,Bh4,g5,Bg3,f5,h3,f4,Bh2,Bf5,g4,fxg3,fxg3,Qd7,g4,Be4,Bg2,Bg7,c3,O-O-O,Nbd2,Bg6,Nb3,b6,a4,a5,Rc1,Nf6,Ne5,Nxe5,Bxe5,Rhg8,e3,Ne4,Bxg7,Rxg7,Bxe4,Bxe4,Rf1,Qd6,Qe2,Qg3+,Rf2,Rf7,Nd2,Rdf8,Nxe4,Qg1+,Qf1,Qxf1+,Kxf1,dxe4,Rc2,Rf3,Kg2,Kd7,b4,axb4,cxb4,e6,a5,bxa5,bxa5,c6,a6,Kd6,a7,e5,Ra2,exd4,a8=Q', 'Rxf2+,Rxf2,Rxa8', 'https://lichess.org/training/pNEZ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pNflu', 'Blitz', 'kelor273', 2143, 'SAMAT-QZ', 2090, 'e4,c5,b4,cxb4,a3,bxa3,f4,a2,Rxa2,d6,Nf3,Bg4,d4,e6,c3,Nf6,Bd3,Be7,O-O,O-O,Nbd2,Nbd7,Nc4,a6,e5,Ne8,Ba3,d5,Bxe7,Qxe7,Ne3,Bxf3,Qxf3,g6,g4,Ng7,f5,exf5,gxf5,Qg5+,Rg2,Qh4,Nxd5,Rad8,Rg4,Qh5,f6,Ne6,Ne7+,Kh8,Qg3,Nxe5,Rh4,Qg5,dxe5,Qxg3+,hxg3,Rxd3,Kg2,Rxc3', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/pNflu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Png4K', 'Blitz', 'NIbbler', 1894, 'neluagentu', 1891, 'e4,e6,d4,c5,c3,cxd4,cxd4,a6,Nf3,b5,Bd3,Bb7,O-O,Nc6,a3,Rc8,Nc3,Nf6,Be3,Ng4,h3,Nxe3,fxe3,Ne7,Rc1,Ng8,d5,h5,dxe6,dxe6,Qe2,Nf6,Ne5,Bc5,Rcd1,Qb6,Qf3,Bxe3+,Kh1,O-O,g4,hxg4,Nxg4,Nxg4,Qxg4,Bh6,Rf6,Qe3,Rg1,Kh7,Rg2,Qxd3', 'Rxh6+,gxh6,Qg7#', 'https://lichess.org/training/Png4K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pNgUj', 'Blitz', 'erez', 1887, 'sdgent81', 1993, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Nf6,Bg5,h6,Bh4,g5,Bg3,Nxe4,O-O,Nxc3,bxc3,Bxc3,Rb1,c5,dxc5,Qf6,cxb6,axb6,Rxb6,Bxf3,Qxf3,Qxf3,gxf3,Nc6,Bb5,Rc8,Ba6,Ra8,Bb7,Rxa2,Bxc6,O-O,Bxd7,Rxc2,Rc6,Kg7,Be5+,Bxe5,Rxc2,Rd8,Bc6,f5,Rb1,Bf4,Rb7+,Kf6,Ba4,Rd6,Rc8,Ra6,Bb3,Ra1+,Kg2,h5,Rf8+,Ke5,Re8,h4,Rxe6+,Kd4,Rf6,h3+,Kxh3,Rh1,Rxf5', 'Rxh2+,Kg4,Rh4#', 'https://lichess.org/training/pNgUj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PNhGv', 'Rapid', 'bambinor12', 1843, 'Alex6662', 1786, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,e6,e5,f6,d3,fxe5,Nxe5,Nf6,Bg5,Be7,Bxf6,Bxf6,Qh5+,g6,Nxg6', 'hxg6', 'https://lichess.org/training/PNhGv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pnif4', 'Blitz', 'Belchior2200', 2025, 'Senor_DonkFish', 2084, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,c4,Nf6,Nc3,Bb4,f3,O-O,Be3,d5,cxd5,cxd5,exd5,Nxd5,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,Qa5,Qd2,Bf5,c4,Qc7,Be2,Rfd8,Qe3,Rd7,Kf2,Rad8,Rhd1,f6,Rxd7,Rxd7,Rd1,Rxd1,Bxd1,Qa5,Bb3,Kh8,c5,Qd8,c6,Qc7,Qc5,Qd8,c7,Qd2+,Kf1', 'Bd3+,Kg1,Qe1#', 'https://lichess.org/training/pnif4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PNJgG', 'Classical', 'veterby', 1638, 'Majora1988', 1618, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nc3,a6,Bc4,b5,Nxc6,Bxc6,Bd5,Bxd5,Qxd5,Nf6,Qc6+,Nd7,O-O,e6,Rd1,Be7,e5,d5,Nxd5,exd5,Rxd5,Ra7,Be3,Rc7,Qxa6,O-O,Bb6,Qc8,Qxc8,Rfxc8,Bxc7,Rxc7,Rad1,Nf8,R1d2,Bg5,Re2,Rd7,Rxd7,Nxd7,b3,Bf4,e6,fxe6,Rxe6,Nf6,Rb6,Ng4,Rxb5,Bxh2+,Kh1,Bf4,Rb4,Nxf2+,Kg1,Be3,a4', 'Nd3+,Kf1,Nxb4', 'https://lichess.org/training/PNJgG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pNJW5', 'Rapid', 'drvchss', 1981, 'locsys', 2001, 'd4,e6,Bf4,b6,Nf3,Bb7,e3,f5,c3,Nf6,Nbd2,g6,Bg5,Bg7,Be2,O-O,h4,Qe8,Ne5,d6,Nef3,Nbd7,Ng1,Bxg2,Rh2,Bb7,h5,e5,hxg6,hxg6,Bh6,exd4,Bxg7,Kxg7,exd4,Ng4,Rh4,Qe7,Ndf3,Rae8,Qd2,Ndf6,O-O-O,Bxf3,Bxf3,Ne4,Bxe4,Qxe4,f3,Qe7,Rh3,Qe3,fxg4,Qxd2+,Rxd2,fxg4,Rg3,Re1+,Rd1,Rff1,Rxe1,Rxe1+,Kd2,Rf1,Kd3,Kf6,Rxg4,Kf5,Rg3,g5,Rf3+,Rxf3+,Nxf3,Kf4,Nxg5,Kxg5,Ke4,Kf6', 'Kd5,Ke7,Kc6', 'https://lichess.org/training/pNJW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pNKL0', 'Rapid', 'danielalfonsoleon', 1683, 'Bani-mfarij', 1724, 'Nc3,Nf6,d4,d5,Nf3,g6,e3,e6,Bd3,Bg7,Bd2,O-O,O-O,Nbd7,Qe2,Re8,Ne5,Nxe5,dxe5,Nd7,f4,b6,a3,c5,e4,c4,exd5,cxd3,Qxd3,Nc5,Qd4,exd5,Nxd5,Bb7,c4,Qd7,b4,Nb3', 'Nf6+,Bxf6,Qxd7', 'https://lichess.org/training/pNKL0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PNLIG', 'Rapid', 'kiwitti02', 2241, 'Lambretta51', 2096, 'e4,c6,Nc3,d5,Nf3,Bg4,h3,Bxf3,Qxf3,dxe4,Nxe4,Nf6,Bc4,Nbd7,d4,e6,c3,Nxe4,Qxe4,Nf6,Qf3,Be7,O-O,b5,Bb3,O-O,a3,a5,Bf4,Qd7,Rad1,Nd5,Rfe1,b4,axb4,Nxf4,Qxf4,axb4,Re3,h6,Rg3,Bg5,Qe4,bxc3,bxc3,Rfe8,Bc2,f5,Qe1,Ra2,Bb3,Rb2,Bc4,Kf7,Rb1,Rc2,Qd1,Rd2,Qb3,Bh4,Rf3,Bg5,Rxf5+,Kg6,Rf3,Qd6,Bd3+,Kh5,Qb7,Re7,Qc8,Bf4,Qf8,c5,Bf1,Bg5,dxc5,Qxc5,Re1,Qd5,Be2', 'Rxe2,Rxe2,Qd1+,Kh2,Qxe2', 'https://lichess.org/training/PNLIG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pNlze', 'Rapid', 'DoKie', 2037, 'bajrami', 1993, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,Bc4,Nxe4,Bxf7+,Kxf7,Qd5+,Ke8,Qxe4,Qf6,O-O,Bxc3,bxc3,d6,Be3,Bf5,Qd5,Ke7,Rac1,Rad8,f4,e4,Nd4,Nxd4,Bxd4,Qg6,Qxb7+,Rd7,Qb3,h5,Be3,h4,Kf2,h3,g3,Qh5,Kg1', 'Qe2,Rf2,Qxe3', 'https://lichess.org/training/pNlze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PnpaO', 'Blitz', 'CoronelTruman', 2228, 'NM esrosenberg', 2263, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Bc5,Bg5,Rb8,Nc3,h6,Bxf6,Qxf6,Nd5,Qd8,c3,d6,h3,O-O,O-O,Ba7,a3,Be6,Nh2,Na5,Ba2,c6,Ne3,Bxa2,Rxa2,g6,b4,Nb7,Nhg4,Kg7,Qd2,Qh4,Kh2,Rh8,g3,Qe7,f4,exf4,gxf4,f5,Nf2,Bxe3,Qxe3,Qe6,Re2,Rbe8,Qd4+,Kh7,Rg1,Rhg8,h4,c5,Qe3,c4,d4,fxe4,Nxe4,Kh8,f5,gxf5,d5,Qe5+,Kh3,Rxg1', 'Qxh6+,Kg8,Nf6+,Kf7,Rxe5', 'https://lichess.org/training/PnpaO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pNqjB', 'Blitz', 'Xuv', 2071, 'waloeh', 1751, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,Nf3,Nxe4,Be2,d5,O-O,Bg4,Re1,Qf6,Nc3,Bd6,Nxd5,Bxh2+,Nxh2', 'Qxf2+,Kh1,Ng3#', 'https://lichess.org/training/pNqjB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PNSby', 'Classical', 'nabers19', 1663, 'ChaseWilliamson', 1639, 'd4,f5,Nc3,d5,e3,Nf6,Bd3,e6,Nf3,Nbd7,Bb5,c6,Ba4,Bd6,Ng5,Qe7,Qf3,Ne4,Ncxe4,dxe4,Qh5+,g6,Qh4,Nf6,f4,Bd7,O-O,Nd5,Qe1,c5,Bxd7+,Qxd7,dxc5,Bxc5,Qd1,O-O,c4,Nf6,Qe2,h6,Nh3,Qd3,Qxd3,exd3,Nf2,Rfd8,Rd1,Ng4,Nxd3,Nxe3,Bxe3,Bxe3+,Kf1,Kf7,Ne5+,Kf6,Nd7+,Ke7,Ne5,Rxd1+,Rxd1,Bxf4', 'Nxg6+,Kf6,Nxf4', 'https://lichess.org/training/PNSby');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pnsgm', 'Blitz', 'pigspider', 1594, 'Hernan86', 1621, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,d3,Be7,Be3,O-O,Nc3,Nc6,a3,a6,h4,Nd4,Bxd4,exd4,Ne2,c5,h5,b5,Bd5,Nxd5,exd5,Bg5,Qg4,Bh6,Rh3,Re8,f4,Qe7,c3,dxc3,bxc3,Qf6,O-O-O,b4,axb4,cxb4,cxb4,Rac8+,Kd2,Qb2+,Ke1,Qxb4+,Kf1,Rc2,Qd7,Rcxe2,Rf3,Qd4,Rc1,Qb2,Rd1,Qc2,Ra1,Qc5,Rd1,Qxd5,Rc1,Qxh5,Rh3,Qa5,Kg1,Bxf4,Rf3,Bxc1', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/Pnsgm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PNsuN', 'Blitz', 'iTudor', 1776, 'Maxyz777', 1766, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,Qf3,e6,d3,Nc6,Nh3,h6,O-O,Bd6,Nf4,Bd7,Bd2,Qb6,a3,Qxb2,Rfb1,Qxc2,Ra2,Qxa2,Nxa2,Nd4,Qxb7,O-O,Qb2,Bxf4,Bxf4,Rfb8,Qc1,Ne2+,Kf1,Nxc1,Rxc1,Rb2,Bxc7,Bb5,Bxb5,Rxb5,Nb4,a5,Nc6,Rb2,Be5,Ra2,Bxf6,gxf6,Rc3,Kh7,g3,Rg8,Kg2,h5,Nxa5,h4,Nc4,hxg3,hxg3,f5,Kf3,Ra8,Rb3,Kg6,Rb7,Ra1,d4,Rc1,Ne5+,Kh6,Nxf7+,Kh5,Ne5,Rxa3+,Kg2,Rd1', 'Rh7+,Kg5,f4+,Kf6,Rf7#', 'https://lichess.org/training/PNsuN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PnTC5', 'Rapid', 'Human_2016', 2176, 'petiiik', 1796, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Be3,O-O,Be2,Re8,O-O,Bg4,c3,Nd7,Qc2,Qc7,h3,Bh5,Rfe1,Bg6,Bd3,Bxd3,Qxd3,Rad8,Nd2,Nb6,c4,c5,d5,Be5,Rab1,Bd6,Ne4,Nd7,Nc3,Ne5,Qf1,a6,b3,b6,Bf4,Nf3+,gxf3,Bxf4,Ne4,Qd7,Qg2,Qf5,Rbd1,Bd6', 'Nxd6,Rxe1+,Rxe1', 'https://lichess.org/training/PnTC5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pnviO', 'Rapid', 'AleXandroviTCH92', 1689, 'JanisZakis', 1748, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd2,O-O,Bd3,d6,O-O,Bg4,Qc1,Re8,f3,Bh5,a3,Bc5+,Be3,Bxe3+,Qxe3,d5,Na4,dxe4,fxe4,Bg6,Nc5,Re5,b4,Qe7,h3,Nxe4,Nxe4,Bxe4,Bxe4,Rxe4,Qb3,Qe6,Qd3,g6,c3,a5,Qg3,axb4,axb4,Rxa1,Rxa1,Re3,Qxc7,Re1+,Rxe1,Qxe1+,Kh2,Qxc3,Qb8+,Kg7,Qb6,h5,g3,Qd2+,Kg1,Qe1+,Kg2,f5,Qc7+,Kh6,Qb6,h4,gxh4,Qxh4,Qxc6,Qxb4,Qf6,Qe4+,Kg3,Kh5,Qh8+,Kg5,Qd8+,Kh5', 'Qh8+,Kg5,h4+,Qxh4+,Qxh4#', 'https://lichess.org/training/pnviO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PnwCe', 'Rapid', 'lamangue', 1732, 'coramian', 1690, 'e4,c5,Qf3,d6,Bc4,e6,d3,Nf6,h3,Nc6,c3,Be7,Qg3,d5,exd5,exd5,Bb3,h6,Qxg7,Rg8,Qxh6,Bf5,Bc2,Qc7,g3,O-O-O,Bf4,Qd7,Nf3,Rh8,Qg7,Rh7,Qxh7,Nxh7,g4,Be6,d4,cxd4,Bxh7,dxc3,Nxc3,d4,Rd1,Qe8,Nb5,Bb4+,Kf1,Bc4+,Kg2,Bxb5,Rhe1,Bxe1,Rxe1,Qh8,Bf5+,Rd7,Ng5,Qf6,Bxd7+,Kxd7,Kg3,d3,h4,Qxb2,Nxf7,d2,Rd1,Qxa2', 'Rxd2+,Qxd2,Bxd2', 'https://lichess.org/training/PnwCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pO0pb', 'Rapid', 'Kubix02', 1699, 'Meaningoftheweek', 1695, 'e4,c5,Nc3,d6,Bc4,g6,d3,Bg7,Nge2,a6,O-O,Nc6,b3,Bxc3,Nxc3,Nf6,Bb2,O-O,Nd5,Ng4,h3,Nge5,Qe2,b5,d4,Nxd4,Qe3,bxc4,Bxd4,cxd4,Qxd4,cxb3,axb3,e6,Ne3,Qg5,Qxd6,Nf3+,Kh1,Nh4,g3,Nf3,c4,Bb7,b4,Bxe4,Rfd1,Nd2+,Kg1,Nf3+,Kf1,Rad8,Qxa6,Rxd1+,Rxd1,Nh2+,Ke2,Qh5+,Kd2,Qxh3,c5,Nf3+,Kc3,Qh2', 'Ng4,Qh3,Nf6+,Kg7,Nxe4', 'https://lichess.org/training/pO0pb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Po8Yb', 'Rapid', 'GerarSummer', 1827, 'STINOL', 1837, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c4,dxc4,Bxc4,Be7,O-O,O-O,Re1,Bg4,Be3,Nc6,h3,Bh5,Nc3,a6,a4,Bb4,Be2,Bg6,Qb3,Ne4,Rad1,Qd6,Nxe4,Bxe4,Rf1,Na5,Qa2,Bd5,b3,Bxb3,Qb2,Bxd1,Rxd1,Rfe8,d5,f5,Rd4,Ba3,Qc2,Rf8,Bf4,Qe7,d6,cxd6,Bc4+,Kh8,Ng5,Nxc4,Qxc4,Qe1+,Kh2,h6,Nf7+,Kh7,Bxh6,Qxf2,Rh4,gxh6,Nxh6,Bc5,Nxf5+,Kg6,Qe6+,Rf6,Rg4+,Kh5,Ng7+,Kh6,Nf5+,Qxf5,Rh4+,Kg7,Rg4+,Kf8', 'Rg8#', 'https://lichess.org/training/Po8Yb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pO9rt', 'Classical', 'gfroberg', 1834, 'ura84', 2142, 'b3,f6,e3,e5,Bd3,Ne7,Ba3,d6,f4,Be6,fxe5,fxe5,Nf3,Nd7,Ng5,Bg8,O-O,Nf6,Rxf6,gxf6,Qh5+,Kd7,Nxh7,Bxh7,Bxh7,Qe8,Bf5+,Nxf5,Qxh8,Qg6,Qh3,Ke7,Nc3,Kf7,Rf1,Ne7,Qd7,Kg8,Qe6+,Qf7,Rxf6,Qxe6,Rxe6,Nc6,Rf6,Be7,Rf1,a5,Nd5,Rc8,c4,Bg5,Rf5,Bh6,b4,axb4,Bxb4,Bf8,Bc3,Ne7,Rg5+,Kf7,Nxe7,Bxe7,Rf5+,Ke6,Rf2,Bh4,g3,Be7,d4,Bf6,Rb2,b6,d5+,Kf5,Rf2+,Kg6,Bd2,Ra8,Bc1,Ra4,Rc2,Bg5,Kf2,Ra8,h4,Rf8+,Kg2,Bh6,Rf2,Ra8,g4,Ra4,Rc2,Rb4,Kg3,Rb1,g5,Bg7,Kg4,e4,h5+,Kh7,Kf5,b5,c5,Be5,cxd6,Bxd6,Kxe4,Rb4+,Kf5,Rh4,g6+,Kg7,Bb2+,Kg8,Kg5,Be7+,Kh6,Rg4,Rxc7', 'Bg5#', 'https://lichess.org/training/pO9rt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('poAMV', 'Blitz', 'bob321', 1994, 'adamschmalhofer', 2155, 'e4,c5,Nf3,e6,Be2,Nc6,O-O,Rb8,c3,d5,exd5,exd5,h3,Nf6,d4,cxd4,cxd4,Bd6,Nc3,O-O,Nb5,Ne4,Nxd6,Qxd6,Be3,f6,a3,Bf5,Rc1,Rbc8,Nd2,Ne7,Nxe4,dxe4,Qd2,Nd5,Bc4,Be6,Bxd5,Bxd5,Rfd1,g5,Rc5,b6,Rxc8,Rxc8,Rc1,Qd7,Rxc8+,Qxc8,Qb4,Qc7,Bd2,h6,Bc3,f5,Qb5,Qc6,Qe2,f4,Qg4,e3,fxe3,fxe3,Qg3,Qe8,Qd6,Qf7,Qe5', 'Qf2+,Kh2,Qxg2#', 'https://lichess.org/training/poAMV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PoEiZ', 'Rapid', 'yaprouxin', 1832, 'rainwolf8472', 1793, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,Be7,d4,exd4,Nxd4,O-O,O-O,Nbd7,Nf5,Ne5,Nxe7+,Qxe7,Bb3,Bd7,Bg5,h6,Bxf6,Qxf6,f4,Ng4,Qe2,Rfe8,h3,Qd4+,Kh1,Nf6,Rad1,Qc5,Nd5,Nxe4,Qf3,Rac8,Rd3,c6,Nc3,Qf5,g4,Qf6', 'Nxe4,Rxe4,Qxe4', 'https://lichess.org/training/PoEiZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PoEL2', 'Blitz', 'raafat797', 1526, 'ChristineKosacheva', 1525, 'd4,Nf6,Nc3,e6,Bg5,Be7,Nf3,b6,e3,Bb7,Be2,O-O,O-O,h6,Bh4,c5,Bg3,Nc6,a3,Rc8,Rb1,cxd4,exd4,Na5,b4,Nc4,Bxc4,Rxc4,Nb5,d6,Nxa7,Qa8,Nb5,d5,Ne5,Rcc8,Qe2,Ba6,a4,Ne4,f3,Bxb5,axb5,Nc3,Qd3,Nxb1,Rxb1,Qa2,c3,Ra8,Re1,Rfc8,Nc6,Bf6,f4,Ra3,f5,Re8,fxe6,fxe6,Rf1,Qb2,Qg6,Rf8,Be5,Bxe5', 'Ne7+,Kh8,Rxf8#', 'https://lichess.org/training/PoEL2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('poeVe', 'Classical', 'M1368', 1652, 'Alihematifat', 1896, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,O-O,d3,d6,Be3,Bg4,h3,Bxf3,Qxf3,Nd4,Bxd4,Bxd4,Nd5,Nxd5,Bxd5,c6,c3,Bb6,Bb3,Kh8,d4,exd4,cxd4,Bxd4,Rab1,Qd7,Rfd1,Be5,Rd3,f5,Rbd1,Qe7,exf5,Rf6,g4,Rh6,Re1,Qg5,Kf1,Rf8,Be6', 'Rxe6,fxe6,Rxf3', 'https://lichess.org/training/poeVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('POfeQ', 'Rapid', 'hover', 1768, 'OgiDanie', 1843, 'd4,d5,e3,a6,c4,dxc4,Bxc4,b5,Be2,Bf5,Bd3,Nh6,Bxf5,Nxf5,Qd3,e6,g4,Nd6,b3,Be7,Bb2,O-O,Nd2,f5,h3,Bh4,Rh2,Qf6,Qe2,c5,Ndf3,Ne4,d5,Nc3,Qd2,b4,Rc1,fxg4,hxg4,Bg5,Nxg5,Qxg5,dxe6,Ne4,Qe2,Nc6,Nf3,Qxg4,Ne5', 'Qg1+,Qf1,Qxh2', 'https://lichess.org/training/POfeQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('poGA9', 'Classical', 'xhaferr', 1751, 'ms99sop', 1720, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,a6,a3,d5,exd5,exd5,Ba2,Nf6,O-O,Be7,Nc3,O-O,Nf3,Be6,Re1,Nc6,Ng5,Qd7,Nxe6,fxe6,h3,Rac8,Ne2,Bd6,Nf4,Bxf4,Bxf4,Rfe8,c3,Kh8,Bg5,Rcd8,f3,e5,Qc2,d4,cxd4,Nxd4,Qd2,Nxf3+,gxf3,Qxd2,Bxd2,Rxd2,f4,e4,b4,b5,f5,Nh5', 'Bf7,Re5,Bxh5', 'https://lichess.org/training/poGA9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pogco', 'Rapid', 'Weteroc54', 2262, 'KAHABER', 2245, 'e4,Nf6,e5,Nd5,Nc3,e6,Bc4,Nxc3,dxc3,d5,Bb3,c5,c4,d4,Nf3,Nc6,O-O,Na5,Qd3,Nxb3,axb3,Bd7,c3,dxc3,bxc3,Bc6,Qxd8+,Kxd8,Bg5+,Be7,Rfd1+,Ke8,Bxe7,Kxe7,Kf1,Bxf3,gxf3,Rhd8,Rxd8,Kxd8,Ke2,a6,b4,Kc7,Rd1,b6,Ke3,a5,Ra1,cxb4,cxb4,Kc6,Ra4,Kb7,Ke4,axb4,Rxb4,Kc6,Rb2,Ra1,f4,Rh1,Ra2,Kb7,Rd2,Kc8,Ra2,Re1+,Kf3,Rd1,Ra7,Rd7,Ra8+,Kb7,Rh8,Kc6,Rxh7,g6,Ke4', 'f5+,exf6,Rxh7', 'https://lichess.org/training/Pogco');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pohzm', 'Rapid', 'albertorj', 1650, 'brad1234', 1670, 'c4,e5,g3,Bc5,Bg2,Nf6,e3,O-O,Ne2,c6,O-O,d5,d4,exd4,exd4,Bd6,c5,Bc7,Bf4,Bg4,Bxc7,Qxc7,Nbc3,Nbd7,f3,Bf5,Re1,Kh8,b4,a5,a3,axb4,axb4,Rab8,b5,b6,Qb3,bxc5,dxc5,Nxc5,Qb4,Nd3,b6,Rxb6,Qxf8+,Ng8,Ra2,Nxe1', 'Ra8,Qc8,Rxc8', 'https://lichess.org/training/Pohzm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PoiWy', 'Classical', 'Larguirucho', 1730, 'Descarado', 1723, 'e4,e6,Qe2,d5,exd5,Qxd5,Nc3,Qa5,Qb5+,Qxb5,Nxb5,Bd6,Nf3,Bd7,a4,Bf4,g3,Bxb5,Bxb5+,c6,Bxc6+,Nxc6,gxf4,Nf6,c3,O-O,d3,Na5,Ra3,b6,b4,Nc6,Ne5,Nxe5,fxe5,Nd5,Bd2,Rac8,c4,Ne7,Be3,Nf5,Kd2,Rfd8,Rc3,Nd4,Bxd4,Rxd4,Ke3,Rcd8,f4,Kf8,Ra1,Ke7,a5,bxa5,Rxa5,R8d7,h4,f6,h5,fxe5,Rxe5,Kf6,Ra5,R4d6,c5,Rd5,c6,Rxa5,bxa5,Rc7,a6,Ke7,Rb3,Kd6,Rb7,Kxc6,Rxc7+,Kxc7,Ke4,g6', 'hxg6,hxg6,Ke5,Kd7,Kf6,Kd6,Kxg6', 'https://lichess.org/training/PoiWy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('poJCH', 'Blitz', 'FM Tschess05', 2320, 'FM Evargalo', 2167, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Bd3,Bb7,Ne2,Bxg2,Rg1,Bf3,Rxg7,Ng4,h3,Bxc3+,bxc3,f5,hxg4,Qf6,gxf5,Qxg7,fxe6,h5,Qc2,Nc6,Bg6+,Ke7,Be4,Qg2,Bxf3,Qxf3,e4,Rag8,Ba3+,d6,e5,Nxd4,Bxd6+,cxd6,cxd4,dxe5,O-O-O,Rg4,d5,Rc8', 'Qh7+,Kd6,Qd7+', 'https://lichess.org/training/poJCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('POlcn', 'Blitz', 'fuzion916', 1718, 'Spekt_Rus', 1758, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nc3,Qf6,Nxd4,exd4,Nd5,Qd6,Qf3,c6,Bc4,cxd5,Bxd5,Qf6,Qb3,Bc5,O-O,Ne7,Bxb7,O-O,Bxa8,Ba6,Bd5,Bxf1,Kxf1,Nxd5,Qxd5,d6,d3,h6,g3,Re8,Bf4,g5,Bd2,Qf3,Kg1,Re5,Qa8+,Kh7,Qb7,h5,Qd7,Qe2,Ba5,Qxc2,Qxf7+,Kh6,Qf6+,Kh7,b4,Qc3,bxc5,Qxa1+,Kg2,Qxa2,Bd8,Qg8,cxd6,Re6,Qxg5,Qxg5,Bxg5,Rxd6,e5,Rd7,Bf6,Kg8,Kf3,Kf7,Kf4,a5,Kf5,a4,Bg5,Rd5,Bc1,Rc5,Ba3,Rc3,Bd6,Rxd3,Ke4,Rd1,f4,Ke6,f5+,Kf7,e6+,Ke8', 'f6,Rf1,f7+,Rxf7,exf7+', 'https://lichess.org/training/POlcn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('POlkd', 'Blitz', 'kratos82', 1651, 'bbakytov', 1962, 'e4,Nc6,d4,d5,e5,f6,Nf3,Bg4,Be2,Bxf3,Bxf3,fxe5,dxe5,e6,Bh5+,g6,Bg4,Qe7,h4,h6,Nc3,Nxe5,Qe2,Nxg4,Qxg4,Qf7,Bg5,Be7,Bxe7,Nxe7,O-O-O,O-O-O,Qd4,Kb8,Nb5,Nc6,Qa4,a6,Nc3,Qxf2,Rhf1,Qe3+,Kb1,Rhf8,Rfe1,Qb6,Rxe6,d4,Ne4,Rfe8,Rxe8,Rxe8,Nf6,Rd8,h5,g5,g4,Ka7,Re1,d3,cxd3,Rxd3,Rc1,Rd4,Qa3,Nb4,Ng8,Nd3,Rd1,Qb5,Nxh6,Rd5,Nf5,Nb4,Rxd5', 'Qf1+,Rd1,Qxd1#', 'https://lichess.org/training/POlkd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PolYI', 'Rapid', 'ya_ru', 2240, 'wissammuhajer', 2278, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bg5,Be7,Bf4,Bb4+,Nbd2,Qe7,a3,Bc5,e3,a5,Ne4,Ngxe5,Nxc5,Qxc5,Nxe5,Nxe5,Qd4,Qxd4,exd4,Nc6,d5,Nd4,O-O-O,c5,Re1+,Kd8,Bd3,b6,Be5,f6,Bxd4,cxd4,Kd2,d6,Be4,f5,Bf3,Ba6,Kd3,Rc8,Rc1,b5,cxb5,Bxb5+,Kxd4,Kd7,b3,g5,Bh5,Rhf8,h3,Ba6,Bf3,Rb8,Rc6,Bb5,Rc3,Rfe8,Rhc1,Rb7,a4,Be2,Re1', 'Rb4+,Rc4,Bxc4', 'https://lichess.org/training/PolYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('POmWJ', 'Blitz', 'lasky', 2108, 'Spiidimonsteri', 2269, 'd4,Nf6,c4,e6,Nf3,b6,Bg5,Be7,Nc3,O-O,e3,h6,Bh4,Bb7,Bd3,d6,Qe2,Nbd7,O-O-O,a6,g4,Nxg4,Rhg1,f5,h3,Ngf6,Nd2,Kh8,f3,b5,d5,bxc4,Bxc4,exd5,Bd3,Ne4,fxe4,Bxh4,exf5,Ne5,Bc2,Bf6,Nf3,c5,Nxe5,dxe5,Rg6,d4,Qh5,dxc3,Rxd8,cxb2+,Kxb2,Raxd8,e4,Bc6,Bb3,Rb8', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/POmWJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pOphh', 'Classical', 'carpenterdale', 1628, 'pk777', 1774, 'd4,Nf6,c4,Nc6,Nc3,e6,a3,b6,e4,d5,e5,Nd7,cxd5,exd5,Bb5,Bb7,Qa4,Ndb8,Nf3,a6,Be2,Be7,Qc2,O-O,O-O,b5,b4,Re8,h4,Bxh4,g3,Be7,Kg2,Nd7,Rh1,Nf8,Bd3,Ng6,e6,fxe6,Bxg6,hxg6,Qxg6,Bf6,Ne5,Nxe5,dxe5,Bxe5,f4,Bxc3,Qh7+,Kf7,Rh6,Bxa1,Qg6+,Ke7', 'Qxe6+,Kf8,Rh8#', 'https://lichess.org/training/pOphh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pOQ0x', 'Rapid', 'mikro46', 1892, 'giuseppinoo', 1889, 'e4,d6,Bc4,Nf6,d3,c5,Nf3,a6,a4,Nc6,O-O,e6,Nc3,Be7,h3,O-O,Ba2,b6,Be3,Bb7,Nh2,d5,exd5,exd5,Bg5,d4,Bxf6,Bxf6,Nd5,Ne5,Nxf6+,Qxf6,Ng4,Qg6,f3,Rfe8,Qd2,h5,Nxe5,Rxe5,Rae1,Rae8,Rxe5,Rxe5,Qf4,Re7,c3,Qxd3', 'Qb8+,Kh7,Bb1', 'https://lichess.org/training/pOQ0x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('POqjw', 'Bullet', 'Chilean_Beast', 1971, 'JaJestJohn', 1928, 'd4,Nf6,c4,c5,Nf3,cxd4,Nxd4,a6,g3,e6,Bg2,Qc7,Nd2,d6,O-O,Nbd7,b3,Be7,Bb2,Rb8,Rc1,b6,Nc6,Bb7,Nxb8,Qxb8,f3,h5,e4,h4,Re1,h3,Bh1,Nh5,Nf1,Nc5,Ne3,Nxg3,hxg3,d5,cxd5,Qxg3+,Kf1,Bh4,Re2,h2,Rg2,Qf4,Qd4,Nd3,Qxd3', 'Qxf3+,Rf2,Qxf2#', 'https://lichess.org/training/POqjw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pORgF', 'Rapid', 'AlSvarog', 1923, 'BOBFICHER1981', 1932, 'e4,g6,d4,Bg7,Nf3,d6,h3,Nd7,Be3,e5,Nc3,exd4,Bxd4,Ngf6,Bc4,O-O,Qd2,c5,Be3,Ne5,Bb3,b6,O-O-O,Ne8,Bh6,Be6,Bxg7,Nxg7,Bd5,Bxd5,Nxd5,Nxf3,gxf3,Ne6,h4,f5,Rdg1,fxe4,fxe4,Nd4,Rg3,Rf7,f4,Qf8,h5,Rxf4,hxg6', 'Rf1+,Rxf1,Qxf1+,Qd1,Ne2+', 'https://lichess.org/training/pORgF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PoryA', 'Blitz', 'ElectricChess73', 1904, 'David1717', 2057, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,a6,Ne2,c5,c3,Nc6,Nf4,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Bd3,h6,O-O,Qb6,g4,Rd8,g5,hxg5,Nxg5,Nf8,Nh5,Qxd4,Kh1,Qxe5,Rg1,g6,f4,Qd4,Rad1,Qb4,Qg2,Qe7,Rde1,Nd4,Re5,b5,f5,Qd6,fxg6,fxg6,Rge1,Nf5,Nf4,Bb7,Qh3,d4+,Kg1,Qc6,Qh6,Qh1+,Kf2,Qc6,Nxg6,Nxg6,Qxg6+,Ng7,Qf7+,Kh8,Rg1,Rf8,Qxf8+,Rxf8+,Ke2,Nh5', 'Nf7+,Rxf7,Rxh5+,Rh7,Rxh7#', 'https://lichess.org/training/PoryA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PoSxR', 'Rapid', 'CharlyCastillo', 1767, 'Richards_Knights', 1808, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,h6,Bh4,Be7,Nf3,O-O,e3,Ng4,Bg3,Nc6,h3,Nf6,Rc1,Ne4,Nxe4,dxe4,Nd2,f5,Be2,b6,O-O,Bb7,a3,Bg5,b4,Ne7,Be5,Ng6,Bg3,f4,exf4,Nxf4,Bg4,Qf6,Re1,Nd3,Nxe4,Bxe4,Rxe4,Nxc1,Bxe6+,Kh8,f4,Bh4,Bxh4,Qxh4,Qxc1,Rae8,d5,Re7,Qe3,Rfe8,f5,Qf6,h4,a6,Rg4,Qxf5,Qg3,Qf8,h5,Qf6,Rg6,Qa1+,Kh2,Rf8,Qg4,Qe5+,Kh3,Rf4', 'Rxh6+,gxh6,Qg8#', 'https://lichess.org/training/PoSxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('POTfh', 'Blitz', 'FM Doubleb17', 2454, 'neas78', 2427, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,dxe5,Nxe5,Nd7,Nxf7,Kxf7,Qh5+,g6,Qxd5+,e6,Qf3+,Nf6,Nc3,Be7,Bh6,Qxd4,Bd3,Qg4,Qe3,Qxg2,O-O-O,e5,Bc4+,Be6,Bxe6+,Kxe6,Rhe1,Bd6,Bg7,Ng4,Qg5,Qf3,h3,Nf6,Re3,Qf5,Qg2,Rhe8,Rf3,Nh5,Rxf5,Nxg7,Rf3,Nf5,Qg4,Rf8,Ne4,Kd7,Ng5,h5,Qc4,Rae8,Qb5+,Kc8,Rfd3,Nd4,Qa4,Re7,Qxa7,Kd7,Ne4,Rf4,Qa4+,b5,Qb3', 'Nxb3+,Rxb3,Rxe4', 'https://lichess.org/training/POTfh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('potqt', 'Bullet', 'Ottogiugno', 1579, 'Kangusoft', 1629, 'g4,d5,Bg2,Bxg4,c4,c6,cxd5,cxd5,Qb3,e6,Qxb7,Nd7,Nc3,Ngf6,Nb5,Rc8,Nxa7,Rc7,Qa6,Bc5,Nc6,Qc8,Qxc8+,Rxc8,Na5,O-O,Nb3,Bb4,Nf3,Ne4,h3,Bh5,Nfd4,e5,Nf5,g6,Nh6+,Kg7,Ng4,Ndc5,Nxc5,Bxc5,e3,f5,Nxe5,d4,Bxe4,fxe4,Nd7,Rf7,Nxc5,Rxc5,b4,Rcf5,Rh2,dxe3,dxe3,Bf3,Bb2+,Kg8,Bd4,Rg5,Kf1,Rc7,Bc5,Rd7,Rc1,Rd2,a3,Ra2,Be7', 'Be2+,Ke1,Rg1#', 'https://lichess.org/training/potqt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('POVsB', 'Rapid', 'FacuOliva06', 2046, 'Marcelogu', 1724, 'e4,c5,b3,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,Nc6,O-O,Nf6,Bb2,e6,h3,Bh5,d3,Bd6,Ng5,Bxe2,Qxe2,O-O,Nge4,Nxe4,Nxe4,Qc7,Nxd6,Qxd6,Qg4,Ne5,Qg3,f6,Bxe5,Qxe5,Qxe5,fxe5,Rfe1,Rf5,Re4,Raf8,f3,Kf7,Rae1,Kf6,R1e3,h5,Kf2,g5,g4,hxg4,hxg4,Rf4,Rxe5,b6,Rxe6+,Kg7,Re7+,Kg8,Rxa7,Rxg4,a4,Rgf4,Rb7,R4f6,c3,g4,b4,Rxf3+,Rxf3,Rxf3+,Kg2,Rxd3,bxc5,bxc5,a5,Rxc3', 'a6,Ra3,a7', 'https://lichess.org/training/POVsB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('POvWc', 'Rapid', 'Bd24', 2033, 'kaosan103', 1931, 'd4,d6,c4,e5,dxe5,dxe5,Qxd8+,Kxd8,b3,Bf5,Nd2,Bb4,a3,Bc3,Ra2,Bb1,Bb2', 'Bxd2+,Kxd2,Bxa2', 'https://lichess.org/training/POvWc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('poWmA', 'Blitz', 'skofiari', 2140, 'Mapownik', 2075, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,Qa5,Bd2,Qa6,Qg3,Ne7,Nf3,Nf5,Qf4,h5,h3,h4,g4,hxg3,fxg3,Be7,g4,Nh4,O-O-O,Nxf3,Qxf3,b5,Rhf1,Rf8,g5,b4,g6,bxc3,gxf7+,Kd7,Bxc3,Qxa2,Qg4,Na6,Qxg7,Nc7,Kd2,Nb5,Ra1,Qc4,Rg1,Nxd4,Qg4,Bg5+,Kd1,Rxf7,Qxd4,Rf1+,Rxf1', 'Qxf1+,Be1,Qf3#', 'https://lichess.org/training/poWmA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pOXPS', 'Classical', 'vasile53', 1748, 'MacheteFlow', 1694, 'e3,d5,d4,c6,Nc3,Nf6,Nf3,Bg4,Be2,e6,O-O,Bd6,Ne5,Bxe2,Qxe2,Qc7,f4,Nbd7,a3,Be7,e4,dxe4,Nxe4,Nxe5,Nxf6+,Bxf6,fxe5,Be7,Qf3,f6,Qh5+,g6,Qh6,fxe5,Qg7,O-O-O,dxe5', 'Bc5+,Kh1,Qxg7', 'https://lichess.org/training/pOXPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PoXqs', 'Rapid', 'gusfig', 1687, 'luca_sge', 1747, 'd4,d5,Nf3,e6,Bf4,c5,e3,c4,c3,Nf6,Nbd2,h6,b3,b5,bxc4,bxc4,Ne5,Be7,Nexc4,dxc4,Bxc4,Bb7,Rb1,Qd7,f3,O-O,Qb3,Nc6', 'Qxb7,Qxb7,Rxb7', 'https://lichess.org/training/PoXqs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('POzn7', 'Rapid', 'RubensC23', 1844, 'chennis', 1876, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bh4,c5,e3,O-O,Nf3,d5,cxd5,exd5,Be2,cxd4,Nxd4,Be6,O-O,Bxc3,bxc3,Nc6,Nxe6,fxe6,Rb1,Qd7,Bg3,Na5,Re1,Ne4,Qd3,Rac8,Rbc1,Rc5,c4,Nxc4,Red1,Qc6,Qd4,Rc8,Bf3,Nxg3,hxg3,Na5,Rxc5,Qxc5,Qe5,Qc6,Bg4,Re8,Bh5,Rf8,Bg4,Rf6,e4,Qc2', 'Bxe6+,Rxe6,Qxe6+', 'https://lichess.org/training/POzn7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PP5SD', 'Classical', 'saajanct', 2029, 'Md_Manik_Hossain', 2047, 'Nf3,Nc6,d4,d5,Bf4,e6,e3,Bd6,Bxd6,Qxd6,c4,dxc4,Nc3,Nf6,Bxc4,O-O,O-O,b6,Qc2,Bb7,a3,Rac8,Bd3,Ne7,e4,Qf4,Ne2,Qh6,Ng3,c5,dxc5,Rxc5,Qe2,Ng6,b4,Rc3,Ba6,Ba8,Qd2,Qxd2,Nxd2,Rd8,e5,Ng4,Nde4,Rc2,Rac1,Ra2,f4,Rxa3,Rfe1,Rb3,Be2,Nh6,b5,Nxf4,Bc4,Rb2,Rf1,Nxg2,Rf2,Rxf2,Kxf2,Nf4,Nd6,Bd5,Bxd5,Nxd5,Ra1,Rd7,Rc1,g6', 'Rc8+,Kg7,Ne8+,Kh8,Nf6+', 'https://lichess.org/training/PP5SD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pp7ja', 'Blitz', 'futurenobel', 2108, 'pedsneurodoc', 2048, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Nd5,cxd4,d6,Bc4,Nb6,Bb5,dxe5,Nxe5,Bd7,Qf3,Nxe5,dxe5,Bxb5,Nc3,Bb4,Bd2,Nc4,O-O-O,Nxd2,Rxd2,Qg5,Qxb7,O-O,Qxb5,Rab8,Qc4,Qxe5,Rhd1,c5,f4,Qh5,g3,Qf3,Rd3,Qf2,h4,Rfe8,g4,h6,R1d2,Re1+,Kc2,Qf1,Rd8+,Rxd8,Rxd8+,Kh7,Qxf7,Bxc3,Qf5+,g6', 'Qf7+,Bg7,Qg8#', 'https://lichess.org/training/Pp7ja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pp9V6', 'Rapid', 'RiyantoBlits', 1934, 'uripmahmudin', 1940, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Bb4,Bd2,Nf6,Bd3,O-O,O-O,h6,a3,Be7,f4,d6,f5,Qb6+,Kh1,Qxb2,Qf3,Qb6,Qg3,Kh7,Qh3,Qd8,g4,Ng8,Rg1,Bg5,Rad1,a5,Qh5,Ba6,Bxa6,Rxa6,Bxg5,Qxg5,Qxg5,hxg5,Rxd6,Nf6,Rb1,Rc8,Kg2,Nxg4,Nd1,Nf6,Kf3,Kg8,c4,Ne8,Rd7,g4+,Ke3,Nf6,Rd6,Kh7,c5,Kg8,Rb6,Rxb6,cxb6,Kf8,Nb2,Ke7,Nc4,Ne8,Rd1,Rb8,Nxe5,Rxb6,Rd7+,Kf8,Rxf7+,Kg8,Re7,Nf6,Kf4,Rb3,a4,Rb4,Nxg4', 'Nd5+,Ke5,Nxe7', 'https://lichess.org/training/pp9V6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pPaMl', 'Rapid', 'sweer_papua', 1729, 'KevinCrumb', 1718, 'f4,d5,Nf3,Nc6,e3,e5,fxe5,Bg4,Be2,Bxf3,Bxf3,Nxe5,O-O,Nf6,d3,Nxf3+,Qxf3,c6,e4,Qd7,e5,Ng8,d4,O-O-O,c3,Re8,Bf4,f6,b4,fxe5,Bxe5,Bd6,Bf4,Nf6,Nd2,Rhf8,Qg3,Bxf4,Rxf4', 'Nh5,Rxf8,Nxg3', 'https://lichess.org/training/pPaMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pPAxU', 'Rapid', 'vania457', 2149, 'sobels', 2037, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qe7,Nc3,Nf6,Nf5,Qe5,Nxg7+,Kf8,Bh6,Kg8,Qf3,Nd4,Qg3,Qxg3,hxg3,Nxc2+,Kd2,Nxa1,Bc4,Bb4,f3,c6,Nh5,Nxh5', 'Rxh5,Bf8,Rg5+', 'https://lichess.org/training/pPAxU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PpC43', 'Rapid', 'Krjl626', 1644, 'Erevan4ever', 1683, 'e4,g6,d4,Bg7,e5,c6,f4,d5,Nf3,Bf5,Bd3,e6,O-O,Nh6,h3,O-O,Kh1,f6,Nh4,fxe5,Nxf5,Nxf5,Bxf5,exf5,fxe5,Nd7,Bf4,Qh4,Qe2,Rfe8,Qe3,Nf8,Nd2,Ne6,Nf3', 'Qxf4,Qxf4,Nxf4', 'https://lichess.org/training/PpC43');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ppcB2', 'Rapid', 'drw7', 2166, 'felb', 1988, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,Qxd4,Nf6,O-O,O-O,e5,c5,Qc3,dxe5,Nxe5,a6,a4,Bf5,Qb3,Qc7,Bf4,Bd6,Re1,Nh5', 'Bxf7+,Kh8,Bxh5', 'https://lichess.org/training/ppcB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PpDnj', 'Blitz', 'Ant4life', 2046, 'josiol', 2138, 'e4,d6,d4,g6,Nc3,Bg7,Be3,Nf6,Qd2,O-O,O-O-O,Nc6,Bh6,e5,d5,Ne7,Bxg7,Kxg7,h4,h5,f3,c6,Be2,cxd5,Nxd5,Nfxd5,exd5,Bf5,g4,hxg4,fxg4,Be4,Bf3,Bxf3,Nxf3,Rc8,h5,Rh8,hxg6,Nxg6,Rh5,Qf6,Rf5,Qe7,Ng5,Rcf8,Rdf1,Nf4,c3,Rh4,R1xf4,exf4,Qd4+,Kg6,Qxf4,Rh1+,Kc2,Qe2+,Kb3,Qb5+,Ka3,a5,Rf6+,Kg7,Ne6+,fxe6,Qg5+,Kh7', 'Qg6+,Kh8,Rxf8#', 'https://lichess.org/training/PpDnj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PPDzp', 'Classical', 'YARGILASEKU', 1685, 'minaevm', 1638, 'd4,d5,Nc3,Nf6,Bf4,a6,Nf3,Bg4,h3,Bxf3,exf3,e6,Bd3,Bb4,O-O,O-O,a3,Bd6,Bxd6,Qxd6,Re1,Nc6,Bf1,Rfe8,g3,e5,dxe5,Rxe5,Rxe5,Qxe5,Bg2,d4,f4,Qe6,Ne2,Rd8,Bxc6,bxc6,Nxd4,Qxh3,Qf3,Rxd4,Qxc6,Qd7,Qa8+,Qe8,Qxa6,h6,Kf1,Rd2,Re1,Ne4,Qa7,Nxg3+,fxg3,Qb5+,Kg1,Rxc2', 'Qa8+,Kh7,Qe4+,g6,Qxc2', 'https://lichess.org/training/PPDzp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PpEZO', 'Blitz', 'Dre79', 1922, 'aji1s59', 2017, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Bb5,Bd7,d4,cxd4,Bxc6,Bxc6,Nxd4,Bc5,Nf5,Qf6,Qe2+,Kf8,Ng3,Re8,Qd2,Bb5,Qxd5,Qxf2+,Rxf2', 'Re1+,Nf1,Rxf1#', 'https://lichess.org/training/PpEZO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PPfX6', 'Classical', 'MChessplayer123', 1902, 'ironnick123', 1838, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d4,exd4,Nxd4,Ne5,f4,N5g6,O-O,c6,Bc4,b5,Be2,a5,e5,Nd5,f5,Nxe5,Nc3,Nxc3,bxc3,Bc5,f6,g6,Bh6,Bb7,Bf3,Qc7,Re1,O-O-O,a4,Rhe8,axb5,cxb5,Bxb7+,Kxb7,Kh1,Bxd4,cxd4,Nc4,Qf3+,d5,Bf4,Rxe1+,Rxe1,Qc6,Re7+,Rd7,Qe2,Nd6', 'Bxd6,Qxd6,Qxb5+', 'https://lichess.org/training/PPfX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pPgc4', 'Rapid', 'shardulme', 1769, 'jache', 1958, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,Nf6,Bf4,g6,e5,dxe5,Qxd8+,Nxd8,Bxe5,Bh6,Nb5,O-O,Nc7,Rb8,Nd5,Ra8,Nxe7+,Kg7,Nd5,Nc6,Bxf6+,Kg8,Nc7,Rb8,Nd4,Bf4,Nxc6,bxc6,Be7,Bxc7,Bxf8,Kxf8,b3,Ba5+,Kd1,Bf5,Ke2,Re8+,Kf3,Be4+,Kg3,Bc7+,f4,g5,Rhf1,Bxf4+,Kg4,f5+,Kh5,Bxg2,Rf2,Bh3,Rd1', 'Bg4+,Kh6,Bxd1', 'https://lichess.org/training/pPgc4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ppGF1', 'Blitz', 'antooonio97', 2308, 'fabiolido', 1823, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,Be7,Nf3,c5,Be3,Nc6,Qd2,Qb6,Na4,Qc7,Nxc5,Nxc5,dxc5,O-O,Bd3,Rd8,c3,b6,cxb6,axb6,O-O,Na5,b3,Bb7,Nd4,Bc5,Rac1,Qe7,Qe2,Ba3,Rc2,Rac8,Qh5,g6,Qh6,Nc6,Rf3,Nxd4,Bxd4,Bc5,Rh3,Bxd4+,cxd4,f6,exf6,Qf7,Rxc8,Rxc8,Bxg6,Qxg6,Rg3,Rc1+,Kf2,Rc2+,Ke3', 'Rc3+,Kf2,Rxg3,Qxg6+,Rxg6', 'https://lichess.org/training/ppGF1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PpghV', 'Blitz', 'GM Som2310', 2590, 'thekop_27', 1858, 'e4,e5,Nf3,f5,d3,Nf6,exf5,Nc6,Nc3,d5,d4,e4,Ne5,Bxf5,Bb5,Qd6,Bf4,Qe6,O-O,a6,Bxc6+,bxc6,f3,Bd6,fxe4,dxe4,Qe2,O-O,Rae1,Bg6,Qc4,Nd5,Bg3,Rxf1+,Rxf1,Bxe5,Bxe5,e3,Re1,Qf7,Rf1,Qe6,Re1,Qf5,Rf1,Qxc2,Qxc6,Nb6,Qe6+,Kh8,Qe7,Rg8,Bxg7+,Rxg7', 'Rf8+,Rg8,Qe5#', 'https://lichess.org/training/PpghV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PPgvK', 'Rapid', 'SCLCCHIAPAS', 1887, 'mikisessa', 1694, 'e4,c5,Nc3,e6,Nf3,a6,d4,cxd4,Nxd4,d6,Be2,Bd7,O-O,Nc6,Be3,Nf6,Nxc6,Bxc6,Bg5,Be7,Qd3,O-O,Qg3,Bxe4', 'Bxf6,Bxf6,Nxe4', 'https://lichess.org/training/PPgvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pphF0', 'Blitz', 'JuanBautistaOcaranza', 2058, 'egypt1982', 2120, 'e4,c5,Nf3,e6,b3,Qb6,Bb2,Nc6,d4,cxd4,Nxd4,Bc5,Nxc6', 'Bxf2+,Kd2,Qe3#', 'https://lichess.org/training/pphF0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pPHuK', 'Rapid', 'hosam2000', 1783, 'bakulish', 1668, 'e4,d5,exd5,Qxd5,d4,Nf6,Nc3,Qd8,Nf3,Bg4,Be2,e6,O-O,Bd6,h3,Bh5,Ne5,Bxe2,Qxe2,O-O,Bg5,Be7,Rad1,h6,Bh4,Nbd7,a3,a6,Bg3,Nh7,Qc4,Bd6,Nxd7,Qxd7,Bxd6,cxd6,Ne4,d5,Nc5,Qe7,Qb3,Rab8,Rfe1,Nf6,Qa4,Nh5,Nd7', 'b5,Qxa6,Qxd7', 'https://lichess.org/training/pPHuK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ppi1k', 'Classical', 'RoshamBoBo', 1620, 'vhgy', 1627, 'e4,c5,Nf3,Nc6,Bc4,d6,d3,h6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Nf3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd3,e5,Nd5,Nxd5,Bxd5,Rb8,c3,Nb5,O-O,Be7,Qf3,O-O,Be3,Nc7,Bb3,b5,Rad1,a5,Qh5,a4,Bc2,Bf6,f4,Ne6,fxe5,Bxe5,Bd3,a3,bxa3,Bxc3,Rb1,b4,axb4,Bxb4,Bb5,Bc3,Bc4,Rxb1,Rxb1,Be5,Qg4,Qc7,Bxe6,fxe6,Qxe6+,Kh8,Rc1,Qb7,Rf1,Rxf1+,Kxf1,Qxe4,Kf2', 'Bg3+,Kxg3,Qxe6', 'https://lichess.org/training/Ppi1k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PpijK', 'Rapid', 'Zohmingliana', 1868, 'Subotay', 1827, 'd4,d5,c4,e6,e3,a6,Nf3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,Be7,Qe2,Nf6,Nc3,O-O,Qc2,h6,e4,Nbd7,Be3,Rc8,Rad1,Qe8,Qe2,c5,e5,Nd5,Be4', 'Nxc3,bxc3,Bxe4', 'https://lichess.org/training/PpijK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pPIwA', 'Rapid', 'Grandma_Esther', 1695, 'Spontex1968', 1704, 'e4,e6,d4,d5,e5,f6,Nf3,c5,c3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,cxd4,cxd4,a5,Be3,Bb4,Nc3,Ba6,Re1,Qc7,a3,Be7,Qd2,h6,Qc2,f5,h3,g5,Qb1,Rb8,Ne2,Bc4,Ng3,f4,Nh5,fxe3,Ng7+,Kf7,Nxe6,Kxe6,Rxe3,Rb3,Qg6+,Kd7,e6+,Kd6,Ne5,Rxe3', 'Nf7#', 'https://lichess.org/training/pPIwA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PpJiH', 'Rapid', 'aerive', 1887, 'davoglio007', 1604, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Be6,Bxe6,fxe6,O-O,exf4,d4,h6,Bxf4,Qf6,Be3,O-O-O,Ne5,Qe7,Nxc6,bxc6,c4,Kd7,c5,d5,e5,g5,Nc3,h5,Qa4,Ra8,Rf2,Nh6,Raf1,Nf5,Bd2,Bh6,Ne2,h4,b4,a6,Qc2,g4,Bxh6,Rxh6,Rf4,Rg8,Rxf5,exf5,Qxf5+,Qe6,Qd3,Qg6,Qxg6,Rhxg6,Rf7+,Kc8,Nf4,R6g7,Rf6,g3,h3,Kb7,a4,a5,b5,cxb5,Nxd5,b4,Kf1,Rd7', 'c6+,Kc8,cxd7+', 'https://lichess.org/training/PpJiH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PPKNS', 'Rapid', 'Uwe_Stahs', 2230, 'Koberti', 2096, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,d6,O-O,e5,d4,Nc6,d5,Ne7,e4,Nd7,Ng5,h6,Nh3,a5,f4,exf4,Nxf4,Ne5,b3,Nxc4,bxc4,Bxc3,Rb1,Bg7,Be3,b6,Qd2,Kh7,Nd3,Ba6,Qc2,Qd7,Rf2,g5,e5,Ng6,Be4,Qg4,Bxg6+,fxg6,exd6,cxd6,Rxb6,Bxc4,Rxd6,Rae8,Rxf8,Bxf8,Nf2,Qe2', 'Qxg6+,Kh8,Bd4+', 'https://lichess.org/training/PPKNS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PpLsi', 'Classical', 'ObedQs', 1621, 'alain1955', 1610, 'd4,Nf6,c4,d5,Nf3,c6,Nc3,Nbd7,Qc2,e6,e3,Bd6,Bd2,e5,O-O-O,e4,Ng5,O-O,h4,h6,Nh3,Ng4,f3,exf3,gxf3,Ngf6,e4,dxe4,fxe4,Ng4,e5,Bb4,a3,Ba5,Ne4,Bc7,Be2,Nb6,Ba5,Ne3,Qb3,Nxd1,Qxd1,Bf5,Nhf2,Rc8,h5,Na8,Bc3,Ba5,b4,Bc7,Rg1,Nb6,Ng3,Be6,Bd3,Nxc4,Nf5,Bxf5,Bxf5,Ne3,Qf3,Nxf5,Qxf5,f6,Bd2,fxe5,Qg6,Qf6,Bxh6,Qxg6,Rxg6,Rf7,dxe5,Bxe5,Ng4,Bd4,Bg5,Rf5', 'Nh6+,Kh7,Nxf5', 'https://lichess.org/training/PpLsi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PplXP', 'Classical', 'rubentrepanos', 1675, 'ChessFear501', 1885, 'e4,c5,c3,Nc6,Nf3,d6,d4,cxd4,cxd4,d5,e5,Bf5,Bd3,e6,Bxf5,exf5,O-O,Bb4,Bd2,Qb6,Bxb4,Nxb4,a3,Na6,b4,Nc7,Nc3,a6,Qb3,Ne7,Na4,Qg6,h3,f4,Nc3,O-O,Rae1,Rae8,Qb1,Kh8,Qxg6,fxg6,g3,h6,g4,Kh7,e6,Rf6,Ne5,Nxe6', 'Nd7,Nc7,Nxf6+', 'https://lichess.org/training/PplXP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PpmKB', 'Blitz', 'Periklismant', 1838, 'cuttlas8', 1827, 'd4,Nf6,c4,e6,Nf3,Nc6,Nc3,Bb4,Qc2,d6,e3,O-O,Bd3,e5,d5,Nb8,e4,Nbd7,O-O,h6,Ne2,a5,Ng3,Bc5,Qe2,Re8,Kh1,Nf8,Be3,Bxe3,Qxe3,Ng6,Nd2,Nf4,Bc2,Nd7,Nf5,Nc5,g3,Bxf5,gxf4,Bg6,f5,Bh5,Rg1,Kh8,Qg3,Rg8,Bd1,Qf6,Bxh5,b6,Raf1,a4,f4,exf4,Rxf4,Rae8,Rg4,Re7,Rf4,Re5,Be2,Re7,Rh4,Re5,Qh3,Re7,Rh5,Ree8,Nf3,Rxe4,Bd1,Ree8,Bc2,Re2,Nh4,Qxb2,Bd3,Qd2,Bxe2,Qxe2,Ng6+,Kh7,Ne7,Qe4+,Qg2,Qxe7,Rh3,Qe5', 'Rxh6+,gxh6,Qxg8#', 'https://lichess.org/training/PpmKB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PPNI3', 'Blitz', 'NatsuD', 1590, 'DerSchrecklicheSven', 1956, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,Nf6,Qd2,Nxd4,Bxd4,Be7,O-O-O,O-O,g4,d5,g5,Nxe4,Nxe4,dxe4,h4,Bd7,h5,Bc6,Rg1,f6,gxf6,Bxf6,h6,g6,Bc4,Bd5,Bxf6,Qxf6,Bxd5,exd5,Qxd5+,Qf7,Qxe4,Qxa2', 'Rxg6+,hxg6,Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/PPNI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PpPTS', 'Rapid', 'abassi56', 1669, 'emcel', 2165, 'd4,d5,f4,c5,e3,Nc6,Nf3,Bg4,c3,e6,Bd3,Nf6,Nbd2,Qc7,O-O,cxd4,exd4,Qxf4,Ne4,Bxf3,Rxf3,Qxe4,Bxe4,dxe4,Re3,O-O-O,b4,Bd6,g3,Ne7,a4,h5,Ba3,Kb8,b5,Ned5,Bxd6+,Rxd6,Re1,Nxc3,Qd2,Ncd5,a5,h4,b6,a6,Rac1,hxg3,hxg3,e3,Qc2,Rc6,Qd3,Rhc8,Rxc6,Rxc6,Qa3,Nd7,Qa2,Kc8,Qh2,Kd8,Qh8+,Ke7,Qxg7,Rc2,Qg5+,N7f6,Qe5,Rd2,g4,Nxg4,Qg5+,Ngf6,Rxe3,Rxd4,Rf3', 'Rg4+,Rg3,Rxg5', 'https://lichess.org/training/PpPTS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pPPZ0', 'Blitz', 'FM Kaldas90', 2564, 'FM alitaptap0220', 2553, 'd4,Nf6,Bg5,Ne4,h4,c5,d5,h6,Bf4,Qb6,Nd2,Nxd2,Bxd2,d6,Bc3,Bf5,h5,Nd7,f3,a6,e4,Bh7,a4,Qc7,a5,O-O-O,Qd2,e6,dxe6,fxe6,O-O-O,Nf6,Bc4,d5,Bxf6,gxf6,exd5,exd5,Bxd5,Bd6,Ne2,Kb8,Kb1,c4,Qc3,Be5,Qxc4,Rxd5', 'Qxc7+,Bxc7,Rxd5', 'https://lichess.org/training/pPPZ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pPqzR', 'Classical', 'WILDANOV_KBPL', 2074, 'ZB_IGR', 2217, 'Nf3,Nf6,d4,d5,c4,dxc4,Nc3,c6,a4,Bf5,e3,Ne4,Bxc4,e6,O-O,Be7,Qb3,Qb6,a5,Qxb3,Bxb3,O-O,Ne5,Rd8,f3,Nxc3,bxc3,Nd7,a6,Nxe5,axb7,Rab8,dxe5,Rxb7,Ba4,c5,e4,Bg6,Rd1,Rxd1+,Bxd1,f6,Be2,f5,exf5,Bxf5,Bc4,Kf7,g4,Bg6,f4,Be4,Kf2,g6,Ke3,Bd5,Bd3,c4,Be4,Bc5+,Kf3,Rb3,Bd2,Rb2,Be3', 'Bxe4+,Kxe4,Re2,Kf3,Rxe3+', 'https://lichess.org/training/pPqzR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PPRFI', 'Rapid', 'knightoffrozenlake', 1945, 'YugoChess', 1873, 'e4,a6,g3,b5,a4,Bb7,Bg2,Nf6,d3,c5,Ne2,Qa5+,c3,c4,O-O,cxd3,Qxd3,bxa4,Na3,e6,Nc4,Qb5,Nd4,Qh5,Rxa4,Be7,Na5,Bc8,Re1,O-O,h3,d5,e5,Nfd7,Nac6,Nxc6,Nxc6,Bc5,b4,Bb6,b5,Bb7,Ba3,axb5,Rh4,Qxh4,gxh4,Rxa3,Nd4,Rc8,Nxb5,Ba6,Qb1,Ra5,Nd6,Rxc3,Rc1,Rxc1+,Qxc1,h6,Qc6,Ra1+,Kh2,Bxf2,Qxd7,Be2,Qxf7+,Kh8,Ne8', 'Bg1+,Kg3,Ra3+,Bf3,Rxf3+', 'https://lichess.org/training/PPRFI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PPRIs', 'Classical', 'theclarinetman', 1615, 'darth_dogra', 1932, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Be2,d6,O-O,d5,exd5,Nxd5,Nxe5,Nxc3,dxc3,O-O,Qxd8,Rxd8,Bd3,Bd6,Nf3,Bg4,Be4,c6,Be3,f5,Bd3,Bxf3,gxf3,f4,Bd2,Nd7,Rae1,Nf6,Be4,g6,Bd3,Nd7,Re6,Nc5,Re2,Nd7,Rfe1,a5,b3,b5,c4,b4,c3,Nf6,Re6,Bf8,Rxf6,Rxd3,Bxf4,bxc3,Rc1,Rxf3,Kg2,Bg7,Kxf3,Bxf6,Ke4,Rd8,Be3,Kf7,f4,h5,h3,g5,fxg5,Re8+,Kf3', 'Rxe3+,Kxe3,Bxg5+,Kd3,Bxc1', 'https://lichess.org/training/PPRIs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pPTbn', 'Rapid', 'ASeriousPhilosopher', 1821, 'vegeta_sama', 1927, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Bf5,Ng3,Bg6,d4,c5,Bb5+,Nc6,Bf4', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/pPTbn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pptEs', 'Rapid', 'Burburudur', 1908, 'Alinochka2007', 1610, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,e6,Be3,Be7,Be2,Nbd7,O-O,b6,Bf3,Rb8,Nc6,Qc7,Nxb8,Qxb8,Qd4,Bb7,b4,O-O,Qd3,Ne5,Qe2,Qa8,Bf4,Nxf3+,Qxf3,Nxe4,Nxe4,Bxe4,Qe3,Bxg2,Rfd1,Bd5,Rxd5,Qxd5,Qxb6,Qc4,Bg3,d5,b5,axb5,axb5,Bc5,Qc6,Bxf2+', 'Bxf2,Qxc6,bxc6', 'https://lichess.org/training/pptEs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pptga', 'Rapid', 'VilacaNeto', 1648, 'ARIHANTA', 1605, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Qe2,Bd6,Nc3,Nxc4,Qxc4,O-O,O-O,Bf5,d3,a6,Re1,Qd7,Nf3,Bg4,Nxe5,Bxe5,Rxe5,Qd6,Bf4,Qd7,h3,Bh5,Ne4,Nxe4,dxe4,Bg6,Rg5,Qe7,f3,Qf6,Qxc7,Qxb2,Be5,Qb5,c4,Qa4,Bg3,Rac8,Qxb7,Qxc4,Qb3', 'Qd4+,Kh2,Qxa1', 'https://lichess.org/training/pptga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PPTx7', 'Rapid', 'mojtaba135836', 2094, 'BigJek', 2009, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,c4,c5,d3,e6,Nc3,d5,cxd5,exd5,Bf4,Nc6,Nb5,Bf5,Nd6,b6,Nxf5,gxf5,Nh4,Nh5,Bc1,f4,e4,fxg3,Qxh5,gxh2+,Kh1,dxe4,Bxe4,f5,Bxc6,Kh8,Bxa8,Qxa8+,Qf3,Qd8,Ng2,Be5,Nf4,Qd6,Rb1,Rg8,Be3,Qf6,b4,Qg7,bxc5,bxc5,Nh5,Qg6,Bf4,Bxf4,Nxf4,Qg5,Ne6,Qg6,Nxc5,f4,Ne4,h5,Rb5', 'Qg1+,Rxg1,hxg1=Q#', 'https://lichess.org/training/PPTx7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pPWaQ', 'Blitz', 'RaulCapablanca149', 2390, 'NABOUL', 2131, 'g4,d5,Bg2,Bxg4,c4,c6,cxd5,cxd5,Qb3,Nf6,Qxb7,Nbd7,Nc3,e6,h3,Rb8,Qxa7,Nc5,hxg4,Ra8,Qxa8,Qxa8,g5,Nfe4,Nxe4,Nxe4,a4,Be7,a5,O-O,Nf3,Nc5,Nd4,Bxg5,Rh3,Qb8,Nc6,Qb5,d4,Bxc1,Rxc1,Nb3,Rcc3,Nxa5', 'Ne7+,Kh8,Rxh7+,Kxh7,Rh3#', 'https://lichess.org/training/pPWaQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ppwPh', 'Blitz', 'appollo24', 1607, 'chalkdiesel', 1503, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bb5,O-O,Bxc6,bxc6,e5,Nd5,Nxd5,cxd5,f4,e6,O-O,Ba6,Rf2,Rb8,b3,f6,exf6,Rxf6,c3,Bh6,Qd2,Qe7,f5,Bxe3,Qxe3,Rbf8,Rf3,e5,Rg3,Qe8,Ne2,Rxf5,Rh3,Bxe2,Qxe2,h5,Rg3,Kg7,Qb5,d4,cxd4,exd4,Qd3,d5,Qxd4+,Kh6,Qd2+,Kg7,Qd4+,Kh6,Rc1,Qe4,Rxg6+,Kxg6,Rc6+,Kg5', 'Qg7+,Kf4,Qg3#', 'https://lichess.org/training/ppwPh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ppXEf', 'Classical', 'morte1111', 1731, 'egrogoras', 1756, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,c3,O-O,d4,exd4,cxd4,Bb6,e5,Ne8,d5,Na5,Bd3,d6,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Bf5,e6,Nf6', 'exf7+,Rxf7,Qxf7+', 'https://lichess.org/training/ppXEf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pPXMn', 'Blitz', 'IM ChessMood_Star', 2536, 'FM muran29', 2390, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,c6,Ne2,Be7,c4,Nbd7,Nbc3,O-O,Bf4,Qa5,a3,e5,b4,Qc7,Bg3,Re8,O-O,Bf8,Re1,Qb6,c5,Qa6,Nc1,Qc4,Ne4,Qxd4,Nd3,Nd5,Qc2,f5,Rad1,fxe4,Nxe5,Qc3,Qxe4,N7f6,Qh4,Qxa3,Rxd5,cxd5,Bh5,Qc3', 'Bf7+,Kh8,Ng6#', 'https://lichess.org/training/pPXMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ppz0m', 'Rapid', 'Neo1977', 1792, 'diamanti', 1845, 'e4,e5,Nc3,f5,d3,f4,g3,fxg3,hxg3,Nf6,Bg5,Bb4,Qd2,d6,a3,Bc5,O-O-O,Nc6,Nd5,h6,Nxf6+,gxf6,Bxh6,Be6,Rh4,Nd4,Ne2,Nf3,Qa5,Nxh4,Qb5+,Bd7,Qxb7,Rxh6,gxh4,Bxf2,Qd5,Rh8,Nc3,Rb8,Be2,Be3+,Kb1,Bd4', 'Bh5+,Rxh5,Qg8+,Ke7,Nd5#', 'https://lichess.org/training/Ppz0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PQ4CP', 'Rapid', 'jeanb', 1652, 'Mrcyln', 1614, 'd4,d5,e3,c5,c4,Nf6,cxd5,Qxd5,Nf3,Bg4,Nbd2,cxd4,Bc4,Qd8,Qb3,e6,Nxd4,Qc8,h3,Bh5,O-O,a6,Qa4+,Qd7,Qxd7+,Nbxd7,a3,Be7,b4,O-O,Bb2,Rac8,Rfc1,Ne5,Bb3,Nd3,Rxc8,Rxc8,Rb1,Bg6,Nc4,Nxb4,Rd1,Nc6,Nb6,Rd8,Rc1,Nxd4,Bxd4,Bxa3,Rc7,Be4,f3,Bc6,Be5,Bc5,Bd4,Bxb6,Bxb6,Nd5', 'Rxc6,Nxb6,Rxb6', 'https://lichess.org/training/PQ4CP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pq4IG', 'Blitz', 'Smarra', 1971, 'Peluso100', 2011, 'e4,e5,Nf3,Bc5,Bc4,Nf6,Nc3,d5,exd5,e4,Ne5,O-O,O-O,Re8,d4,exd3,Nxd3,Bd6,Ne2,Bxh2+,Kxh2,Ng4+,Kg1,Qh4,Re1', 'Qh2+,Kf1,Qh1+,Ng1,Nh2#', 'https://lichess.org/training/Pq4IG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pQ4mG', 'Rapid', 'Augusto2015', 1963, 'FaineantFini', 1867, 'e4,Nc6,Nf3,e5,Bc4,Bc5,Nc3,Nf6,d3,h6,h3,O-O,Nd5,Nxd5,Bxd5,Ne7,O-O,Nxd5,exd5,d6,Be3,Bxe3,fxe3,f5,e4,f4,Qe1,Qf6,Qh4,Qxh4,Nxh4,g5,Nf3,a5,Kh2,Kg7,d4,Re8,Rae1,Kf6,dxe5+,dxe5,Nd2,b6,g3,Ba6,Rf2,h5,gxf4,gxf4,Nf3,Rg8,Rg1,Rxg1,Kxg1,Bb5,b3,c6,c4,Ba6,dxc6,Rc8,Nh4,Rxc6,Rg2,Rd6', 'Rg6+,Ke7,Nf5+', 'https://lichess.org/training/pQ4mG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pq4Mi', 'Rapid', 'Putra_Pandawa', 1923, 'straightaraguay', 1875, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Be7,Bd3,Ngf6,O-O,O-O,c3,b6,Re1,Bb7,h3,Nxe4,Bxe4,Bxe4,Rxe4,Nf6,Re2,c5,Bg5,cxd4,Nxd4,Qc7,Qc2,Rfd8,Nf3,Rac8,Rd1,Rxd1+,Qxd1,Rd8,Rd2,Rxd2,Qxd2,Qd8,Qxd8+,Bxd8,Ne5,h6,Bh4,a5,f3,g5,Bf2,Nd5,a4,f6,Nd7,Kf7,c4,Ke7,cxd5,Kxd7,dxe6+,Kxe6,g4,f5,Kf1,fxg4,hxg4,Kd5,Ke2,Kc4,Kd2,b5,axb5,Kxb5,Bd4,Kb4,Bg7,Kb3,Kc1,a4,Bxh6', 'Bf6,Bf8,Bxb2+', 'https://lichess.org/training/Pq4Mi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pQ5o1', 'Rapid', 'Campbelll', 2019, 'joseRamon68', 2024, 'd4,c5,d5,Nf6,c4,d6,Nc3,a6,a4,e6,e4,exd5,exd5,g6,Be2,Bg7,Nf3,O-O,h3,Nbd7,O-O,Re8,Be3,Ne5,Nxe5,Rxe5,Qd2,Ne4,Nxe4,Rxe4,Bd3,Re5,Rfe1,Bf5,Bxf5,Rxf5,Re2,Qf6,Rae1,b5,axb5,axb5,b3,b4,f4,Qd8,g4,Bc3,Qc2,Bxe1,Rxe1,Qh4', 'Bf2,Qxh3,gxf5', 'https://lichess.org/training/pQ5o1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PQ7sG', 'Blitz', 'Rizal81', 1925, 'machine009', 1869, 'd4,d5,f4,Bf5,Nf3,e6,e3,h6,Bd3,Bg4,O-O,c5,c3,c4,Bc2,Nc6,Nbd2,Nf6,Qe1,Bd6,Ne5,Qc7,e4,O-O-O,Nxc6,Bxf4,Nxd8,Bxh2+,Kh1,Bg3,Rf2,Qxd8,e5,Nd7,Qe3', 'Qh4+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/PQ7sG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pQ8tS', 'Classical', 'Vector_naija', 2005, 'leifpush', 2030, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qc4,Nf6,Nc3,e6,Nf3,d5,exd5,Nxd5,Nxd5,Qxd5,Qa4,a6,Bd2,b5,Qh4,Be7,Qg3,O-O,Bd3,e5,O-O,e4,Bc3,f6,Be2,exf3,Bxf3,Qc5,Rfe1,Bd6,Qh4,Bf5,Rad1,Ne5,Bxa8,Rxa8,Bxe5,Bxe5,g4,Bg6,g5,Qxc2,gxf6,Bxf6,Qb4,Bh5,Rc1,Qg6+,Kf1,Bf3', 'Qb3+,Qf7,Qxf3', 'https://lichess.org/training/pQ8tS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PQAkR', 'Classical', 'HansenR', 1817, 'pourbehesht_z', 1758, 'd4,d5,c4,Nf6,Nc3,Bf5,Bf4,e6,e3,Nc6,Nf3,a6,cxd5,Nxd5,Nxd5,Qxd5,a3,Qa5+,Qd2', 'Bb4,axb4,Qxa1+', 'https://lichess.org/training/PQAkR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pqBAX', 'Bullet', 'SanderHyeEhmsen', 2130, 'Dathabija', 2286, 'c4,c5,g3,g6,Bg2,Bg7,Nf3,Nc6,Nc3,e6,O-O,Nge7,d3,O-O,Rb1,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bxc3,Qc2,Nd4,Nxd4,Bxd4,Bb2,b6,e5,Rb8,Qa4,Bb7,Bxd4,Bxg2,Kxg2,Qxd4,Qxa7,Qxd3,Rxb6,Ra8,Qc7,Rfc8,Qb7,Qe2,Rc6', 'Qe4+,Kg1,Qxc6,Qxc6,Rxc6', 'https://lichess.org/training/pqBAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pqbei', 'Rapid', 'jbbwell', 1730, 'george_the_greek', 1711, 'e4,c5,Bc4,Nc6,a3,g6,Ne2,Bg7,c3,Nf6,d3,Qb6,Ba2,O-O,O-O,e5,Kh1,d6,f4,exf4,Bxf4,Qxb2,Nd2,Bg4,Bxd6,Rfd8,Bxc5,Nd7,Bxf7+,Kh8,Bb4,Nxb4,cxb4', 'Qxa1,Qxa1,Bxa1', 'https://lichess.org/training/Pqbei');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PqC07', 'Rapid', 'xtoaster', 1695, 'ArnoldAsar', 1674, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,Bg4,Be2,e5,d3,Bb4+,Nc3,Qa5,Bd2,O-O,a3,Qc7,axb4,Nxb4,h3,Bxf3,Bxf3,Nxd3+,Ke2,Nc5,Nb5,Qd7,Bb4,Qxd1+,Raxd1,e4,Bxc5,exf3+,Kxf3,Rfc8,Bd4,Rxc4,Bxf6,gxf6,Rd2,Rb4,Nc3,Rb3,Rhd1,b5,Rd8+,Rxd8,Rxd8+,Kg7,Rd7,b4,Rb7,Rxb2,Nd5,Rb3+,Kg4,a5,f4,Rb2,g3,b3,Ne3,a4,Nf5+,Kg6,h4', 'h5+,Kh3,Kxf5', 'https://lichess.org/training/PqC07');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pQCra', 'Rapid', 'C2WHH', 1959, 'pawn2019', 2002, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,d4,a6,Bxc6+,bxc6,dxe5,Nxe4,Re1,d5,Nc3,Bf5,Nxe4,dxe4,Qxd8+,Rxd8,Nh4,Be6,Be3,Be7,g3,O-O,f4,Bxh4,gxh4,f6,exf6,Rxf6,Kg2,Rg6+,Kf2,Bh3,Rg1,Rdd6,Bc5,Rd2+,Ke3,Rxg1,Rxg1,Rxc2,Bd4,Bf5,Rxg7+,Kf8,Rxc7,Rxh2,Rxc6,Rxh4', 'Rf6+,Ke7,Rxf5', 'https://lichess.org/training/pQCra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PqDd4', 'Rapid', 'SERGEYjent', 1606, 'drewgoodman1', 1616, 'e4,c5,d3,Nc6,Nf3,d6,h3,Nf6,Be2,e6,Nc3,a6,Be3,Be7,a3,O-O,Qd2,b5,a4,b4,Na2,a5,g4,Bb7,c3,b3,Nc1,Qb6,Ra3,Rab8,Rxb3,Qc7,h4,Nxg4,Ng5,Nxe3,Qxe3,h6,Nh3,d5,Nf4,d4,Qg3,Kh8', 'Ng6+,fxg6,Qxc7', 'https://lichess.org/training/PqDd4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PQDjr', 'Rapid', 'ezraravin', 1702, 'hamzinho', 1721, 'e4,e5,d4,f6,dxe5,fxe5,Nc3,Nc6,Nf3,Bb4,Qd3,Nf6,Bd2,Bxc3,Bxc3,d6,O-O-O,Bg4,h3,Bxf3,Qxf3,Qe7,Bb5,Qd7,Qe3,a6,Be2,O-O-O,Bg4,Nxg4,hxg4,Kb8,g5,g6,f4,exf4,Qxf4,Rdf8,Qe3,Qd8,Bxh8,Rxh8,Rhf1,h5,gxh6,g5,Rh1,Qf6,h7,Nb4,Kb1,Qf7,b3,Qg7,Qd2,Nc6,Qe3,Ne5,Qd4,g4,g3,Rxh7,Rxh7,Qxh7,Rf1,Nf3,Qd1,Qxe4,Qd3', 'Qxd3,cxd3,Nd2+,Kc2,Nxf1', 'https://lichess.org/training/PQDjr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pqDkq', 'Rapid', 'Wes3449', 1908, 'Faraon67', 1941, 'd4,d5,Bf4,Bf5,e3,Nc6,c4,Nf6,Nc3,e6,Qb3,Bb4,a3,Bxc3+,bxc3,Rb8,Nf3,O-O,Be2,dxc4,Bxc4,Be4,Be2,Nd5,Bg3,Na5,Qb2,Nb6,O-O,Nac4,Qb4,Bxf3,Bxf3,Nd2,Be2,Nxf1,Kxf1,Nd5,Qc5,b6,Qc6,Rc8,Bf3,a5,Rc1,h6,c4,Ne7,Qb7,c5,dxc5,Rxc5,Rd1,Qe8,Qxb6,Rxc4,Qxa5,Ra4,Qc7,Nf5,Bc6,Nxg3+,hxg3,Qb8', 'Qxb8,Rxb8,Bxa4', 'https://lichess.org/training/pqDkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pqEhf', 'Rapid', 'cheIove4ek', 1637, 'BorisRed', 1659, 'd4,d5,c4,dxc4,Nf3,Nf6,e3,Nc6,Bxc4,Bg4,O-O,Ne4,Nc3,Nxc3,bxc3,e6,h3,Bf5,Qb3,Bd6,Qxb7,Qf6,Qxa8+,Ke7,Qxc6,Qg6,Kh1,Bxh3,gxh3,Qf5,Ng1,g5,Bb5,g4,Qd7+,Kf6,f4,gxh3,Rf2,Qd5+,Kh2,Rg8,Nxh3,Qh5,Be2,Qh4,Qc6,Rg6,Qf3,Rh6,Qg4,Qxf2+,Qg2,Qh4,Bd2,Rg6,Qf3,Ke7,Qh5', 'Qg3+,Kh1,Qg2#', 'https://lichess.org/training/pqEhf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pQfAS', 'Blitz', 'Norfor', 1932, 'ChessGeorgian', 1923, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,d5,exd5,Nxd5,Nbd2,O-O,Ne4,Bb6,Nfg5,h6,Bxd5,Qxd5,c4,Qd4,Be3,Ba5+,Kf1,Qxb2,Rb1,Qxa2,Nf3,Bg4,h3,Bxf3,gxf3,Nd4,Rg1,Nxf3,Bxh6,Nxg1,Qg4,Qxb1+,Kg2,g6,Nf6+,Kh8,Qh4,Nf3,Kxf3,Qh1+,Ke2,Qe1+,Kf3,e4+,Nxe4,Qd1+,Kg2,Qh5', 'Qf6+,Kh7,Qg7#', 'https://lichess.org/training/pQfAS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pQgwX', 'Rapid', 'kamalallach', 1772, 'Konstantis09', 1781, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,O-O,Bf5,Bxf5,Nxf5,c3,Nc6,Re1+,Nfe7,Nbd2,Qd7,Nf1,O-O-O,b4,h5,Ng5,Rdf8,a4,f6,Nh3,g5,Ng3,h4,Ne2,g4,Nhf4,h3,g3,f5,Nd3,Ng6,Nc5,Bxc5,bxc5,Nce7,Qb3,Qc6,Bf4,Nxf4,Nxf4,Qd7,Rab1,b6,c6,Qxc6,Rxe7,Qd6,Re6,Qd7,a5,Re8,Rbe1,Rxe6,Rxe6,Re8,Rxe8+,Qxe8,Kf1,bxa5,Qxd5,Qa4,Qa8+,Kd7,Qd5+,Ke8,Qe6+,Kd8,Qxf5', 'Qd1#', 'https://lichess.org/training/pQgwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pqhBP', 'Rapid', 'Terval', 1995, 'da8eat', 1788, 'e4,c5,Bc4,a6,Nc3,e6,Nf3,Nc6,d4,cxd4,Nxd4,Bb4,Ne2,Nf6,Bg5,h6,Bh4,g5,Bg3,Nxe4,O-O,Nxg3,fxg3,O-O,Ne4,f5,N4c3,Ne5,Bd3,Nxd3,Qxd3,Qc7,g4,Qe5,gxf5,exf5', 'Qc4+,Kh7,Qxb4', 'https://lichess.org/training/pqhBP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PQhks', 'Rapid', 'pokergod94', 1791, 'Britvich', 1878, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Bf4,c5,dxc5,Bxc5,Nf3,Qb6,Qe2+,Be6,O-O,O-O,Nbd2,Re8,Ne5,Nc6,h3,Nd4,Qd1,Rac8,c3,Nf5,Qc2,Ne3,Bxe3,Bxe3,Nef3,d4,Kh1,Bxd2,Qxd2,dxc3,bxc3,Red8,Nd4,Qd6,Rfe1,Bd7,Rab1,b6,Qg5,Rc5,Qh4,Rh5,Qg3,Qxg3,fxg3,Bxh3,gxh3,Rxh3+,Kg2,Rh6,Re7,Nd5,Rxa7,Nxc3,Rc1,Nd5,Nf5,Rf6,Ne7+,Nxe7,Rxe7,g6,Bc4,Rd2+,Kh3,Rb2,Bb3,h5,Rcc7,Rbf2,Kh4,Kg7,Kh3,g5,Rb7,Kg6,Bxf7+,Rxf7,Rxf7', 'g4+,Kh4,Rh2#', 'https://lichess.org/training/PQhks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PqjJL', 'Rapid', 'Cameron88', 1848, 'ChiarQ', 1690, 'd4,d5,c4,e6,e3,Nf6,Nc3,g6,Be2,Bg7,Nf3,Nbd7,O-O,a6,Bd3,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bg5,Qe8,Re1,Nxe4,Rxe4,b5,Rh4,h5,c5,Bb7,Qd2,Bxf3,gxf3,Qc6,Rh3,e5,dxe5,Qe6,Rg3,Bxe5,Bf4,Rad8,Qc1,Bxf4,Qxf4,Rd5,Qxc7,Rfd8,Qb6,Qe2,c6,Rd2,c7', 'Rd1+,Rxd1,Rxd1+,Kg2,Qf1#', 'https://lichess.org/training/PqjJL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pqju5', 'Blitz', 'KeremEgeSivri', 1513, 'Ethansen_2020', 1632, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Qe2,Bc5,Bxc6,dxc6,Nxe5,Qe7,Nd3,Qxe4,Nxc5,Qxe2+,Kxe2,O-O,Nc3,Be6,Nxe6,fxe6,d3,Rfe8,Bg5,Nh5,Kd2,h6,Bh4,Nf4,g3,Nd5,Nxd5,exd5,Rhe1,Rac8,Rxe8+,Rxe8,Re1,Rxe1,Kxe1,Kf7,Ke2,g5,Bxg5,hxg5,Kf3,Kf6,Kg4,Kg6,h4,gxh4,gxh4,b6,f4,d4,h5+,Kh6,f5,c5,Kf4,b5,Ke5,Kxh5,Ke6,Kh6,Kf7,c4,dxc4,bxc4,f6,d3,cxd3,cxd3,Ke7,d2,f7,Kg5,f8=Q,d1=Q,Qg7+,Kf4,Qh6+,Ke4,Qe6+,Kf3,Qf5+,Kg3,Qg6+,Kh4,Qh6+,Kg3,Qg5+,Kf2,Qh4+,Ke3,Qg5+,Kd3,Qd5+,Kc2,Qxd1+,Kxd1,Kd7,Kc2,Kxc7,Kxb2,Kb7', 'a5,Ka6,a4,Ka5,a3,Kb4,Kxa2', 'https://lichess.org/training/Pqju5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PqMLn', 'Rapid', 'steinna615', 1611, 'Mo2016', 1614, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,d5,exd5,Nxd5,Re1,Bg4,c3,Nb6,Bb3,Bd6,h3,Bxf3,Qxf3,O-O,d3,Nd7,Nd2,Nf6,Ne4,Be7,Bg5,Nxe4,Bxe7,Qxe7,Rxe4,Rad8,d4,Qg5,Rae1,exd4,Rg4,Qd2,Rd1,Qxb2,cxd4,Nxd4,Qxb7,Ne2+,Kh2,Rxd1', 'Bxf7+,Rxf7,Qxb2', 'https://lichess.org/training/PqMLn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pQMoW', 'Blitz', 'Djabov64', 1983, 'MasterMoscow', 1984, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,a6,Be3,d6,Nc3,Be7,f4,Nbd7,Qf3,Qc7,O-O-O,b5,Qg3,Nh5,Qg4,Nhf6,Qg3,O-O,f5,e5,Nb3,Bb7,Bg5,b4,Nd5,Nxd5,exd5,Bxg5+,Qxg5,f6,Qh4,Bxd5,Rhg1,Bxb3,axb3,a5,Bc4+,Kh8,Rd3,a4', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/pQMoW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PQmrJ', 'Blitz', 'Will1985', 1874, 'dam_theater', 1706, 'd4,d5,c4,c5,cxd5,Qxd5,e3,cxd4,exd4,Nf6,Nc3,Qa5,Nf3,Bg4,Be2,Nc6,O-O,e6,Be3,Be7,Qb3,b6,Bb5,Bxf3,gxf3,Rc8,Ne4,Nd5,a3,O-O,Rac1,Nxe3,fxe3,Nb8,Qd3,Rxc1,Rxc1,a6,Bc4,b5,Bb3,b4,Bc2,bxa3', 'Nf6+,Kh8,Qxh7#', 'https://lichess.org/training/PQmrJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pqndO', 'Rapid', 'maximtretyakov1985', 1798, 'CelesMoor', 1815, 'e4,Nc6,d4,d6,d5,Ne5,Nf3,Nxf3+,Qxf3,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,h6,Nc3,O-O-O,Be3,Kb8,a4,g5,b4,g4,Qg3,Nh5,Qh4,Nf6,f4,Bg7,Qe1,b6,a5,Kb7,axb6,a6,Qe2,Ra8,bxc7,Qxc7,Na4,Nxe4,Bb6,Nc3,Nxc3', 'Qxb6+,Kh1,Bxc3', 'https://lichess.org/training/pqndO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PqoUL', 'Blitz', 'Don_chisciotte88', 1703, 'abdullah1985', 1720, 'e4,g6,f4,Bg7,Nf3,Nc6,Bc4,a6,a4,e5,Ng5,exf4,Nxf7,Qf6,Nxh8,Bxh8,O-O,Nge7,d3,d6,Rxf4,Qd4+,Kh1,Bd7,c3,Qg7,Qf3,O-O-O,h3,Ne5,Qe3,g5,Rf7,Nxf7,Qa7,Bc6', 'Be6+,Rd7,Qa8#', 'https://lichess.org/training/PqoUL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pqtAT', 'Rapid', 'QzI23', 2069, 'BlueskullFireWalker', 1957, 'd4,e6,Bf4,Nf6,e3,d5,Nd2,Bd6,Bxd6,Qxd6,c3,c5,Bd3,c4,Bc2,Nc6,Ngf3,a5,e4,dxe4,Nxe4,Nxe4,Bxe4,O-O,O-O,f5,Bxc6,Qxc6,Ne5,Qa6,Qe2,b5,Rfd1,Bb7,Nd7', 'Qc6,d5,Qxd7', 'https://lichess.org/training/pqtAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PQtQr', 'Classical', 'ottersarecute', 1670, 'earlmiddleton40', 1812, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Bd5,Nf6,Bxc6,dxc6,Nxe5,Be7,d4,O-O,Bf4,Nd5,Bg3,Bd6,c4,Bxe5,Bxe5,Nf6,Nd2,Bg4,f3,Bf5,Ne4,Nxe4,fxe4,Bxe4,Qg4,Bg6,h4,h5,Qg3,Re8,Rf5,Rxe5,Rxe5,Qxd4+,Qe3,Qxh4,Re8+,Rxe8,Qxe8+,Kh7,Qd7,Qxc4,Qxc7,Qd4+,Kh1,Be4,Qxf7,Qxb2', 'Qxh5+,Kg8,Qe8+', 'https://lichess.org/training/PQtQr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pqVfV', 'Rapid', 'HannibalsTea', 1926, 'elfkan', 1955, 'd4,c5,d5,Nf6,c4,e6,Nc3,exd5,cxd5,Bd6,e4,O-O,Nf3,Re8,Bd3,Bc7,O-O,d6,Re1,Bg4,h3,Bxf3,Qxf3,Nbd7,Bg5,a6,a4,h6,Bh4,Ne5,Qe2,Nxd3,Qxd3,g5,Bg3,Nd7,Rf1,Ne5,Bxe5,Rxe5,f4,Re8,fxg5,hxg5,Qg3,f6,h4,Kg7,hxg5,fxg5,Rf5,Re5,Raf1,c4,Rf7+,Kg6,Qh3,Bb6+,Kh1,Qh8,R1f6+,Qxf6', 'Qh7#', 'https://lichess.org/training/pqVfV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PQVso', 'Rapid', 'Akmal1975', 2083, 'Master225', 1664, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nc3,Bc5,Nf3,Ng4,d4,Bb6,h3,Nf6,Be3,O-O,Bd3,Nc6,d5,Nb4,a3,Nxd3+,Qxd3,Re8,c5,Bxc5,Bxc5,Bf5+,Qe3,Rxe3+,Bxe3,Nxd5,O-O-O,c6,Ne2,Qe7,Ng3,Nxe3,fxe3,Qxe3+,Rd2,Qc5+,Kd1,Be6,Re1,Bb3+,Ke2,Re8+,Kf1,Bc4+,Ne2,Bxe2+,Rexe2,Rxe2', 'Rd8+,Qf8,Rxf8+,Kxf8,Kxe2', 'https://lichess.org/training/PQVso');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PQVYt', 'Blitz', 'Shur_iks', 1556, 'mohan1092', 1571, 'd4,e6,c4,d5,a3,dxc4,Nc3,Nd7,e3,Nb6,a4,a5,Nf3,Nf6,Be2,Bb4,O-O,O-O,Bd2,c6,Ne5,Qc7,Nxc4,Nxc4,Bxc4,Rb8,Bd3,e5,dxe5,Qxe5,Rc1,Qg5,e4,Qe5,f4,Qc5+,Kh1,Qd6,e5,Qxd3,exf6,gxf6,Rf3,Qd6,Rg3+,Kh8,Ne4,Bxd2,Nxd2,Qxf4,Rc4,Qe5,Re4,Qxb2,Rh4,Rd8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/PQVYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pqwnf', 'Classical', 'MoonlightAnomaly', 1814, 'Cangaroo64', 1806, 'e4,g6,d4,Bg7,Nf3,d6,Bc4,Nf6,Nc3,O-O,O-O,Bg4,Be3,Nc6,h3,Bxf3,Qxf3,e5,dxe5,Nxe5,Qe2,Nxc4,Qxc4,Re8,Rad1,Nd7,Qb3,Qc8,f3,Nc5,Qc4,b6,b4,Ne6,Nd5,c6,Nc3,Rd8,Rd3,b5,Qb3,a5,Rfd1,axb4,Qxb4,Be5,a3,Qa6,Ne2,c5,Qd2,c4,Rd5,Qxa3,f4,Bg7,f5,Nc7,Rxd6', 'Rxd6,Qxd6,Qxe3+', 'https://lichess.org/training/Pqwnf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pQx1j', 'Rapid', 'Pnyke', 1788, 'msadikin', 1689, 'c4,e5,Nc3,f5,g3,Nf6,Bg2,c6,e3,d5,cxd5,cxd5,d4,e4,Nge2,Nc6,O-O,Bd6,Nf4,Bxf4,exf4,O-O,Re1,Be6,Na4,b6,b3,Rc8,Ba3,Rf7,Nc3,Ng4,h3,Nf6,Nb5,Qd7,Nd6,a5,Nxc8,Qxc8,Rc1,Qb7,Bb2,Nb4,Re3,Nxa2,Rb1,Nb4,Bf1,Rc7,Rc1,Ne8,Rxc7,Nxc7,Qc1,Bd7,Rc3,Ne6,Ba3', 'Na2,Qa1,Nxc3', 'https://lichess.org/training/pQx1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PQyZy', 'Rapid', 'victormurcia', 1699, 'locojhon87', 1705, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Qd2,Nbd7,O-O-O,O-O,Bh6,c5,dxc5,Nxc5,f3,Bd7,h4,Na4,Nxa4,Bxa4,g4,Qb6,Bxg7,Kxg7,h5,Nd7,hxg6,fxg6,Qh6+,Kf7,Qxh7+,Ke8,Qxg6+,Kd8,Rh7,Qe3+,Kb1,Rc8,Bd3,Ne5,Qe6,Nxd3', 'Qxe7#', 'https://lichess.org/training/PQyZy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PQzeJ', 'Blitz', 'daytrader0001', 1685, 'zagor666', 1655, 'd4,d5,Nf3,e6,Bf4,c5,e3,c4,c3,a5,b3,b5,a4,b4,bxc4,dxc4,Bxc4,bxc3,Nxc3,Bb4,Qd3,Nf6,O-O,O-O,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be7,f4,Bb7,Rab1,Qd7,Bb5,Bc6,Bxc6,Nxc6,Rf3,Nb4,Qd1,Nh7,Bh6,Rfe8,Rg3+,Kh8,Qg4,Rg8', 'Bg7+,Rxg7,Qxg7#', 'https://lichess.org/training/PQzeJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PR0vo', 'Blitz', 'Biracule', 2256, 'HakanTurgut48', 2321, 'e4,c5,Nc3,e6,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d5,d3,Nf6,Qe2,Be7,e5,Nd7,Bf4,Rb8,Rab1,O-O,Nd1,Qa5,a3,Rd8,Ne3,Nf8,Bg3,Ng6,h4,h6,h5,Nf8,c4,Qc7,Ng4,a5,Nd2,Ba6,Bf4,a4,Nf6+,Bxf6,Qe3,Be7,Qg3,Kh8,Rfe1,Nd7,Re3,Nb6,Rf3,dxc4,dxc4,Bf8,Qg4,Rd4,Rg3,Nxc4,Nf3,Re4,Re1,Rxe1+,Nxe1,Kh7,Nf3,Rxb2,Nh4,Rb1+,Kh2,Nxe5,Qh3,Nd3,Bxc7,Nxf2,Rxg7+,Bxg7,Qf3,Nd3,Kg3,Rb3,Kh2,Ne5,Qe4+,f5,Nxf5,exf5', 'Qxf5+,Kg8,Bxe5,Bxe5+,Qxe5', 'https://lichess.org/training/PR0vo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pr29r', 'Rapid', 'akel61', 1811, 'RyanM', 1868, 'd4,Nf6,c4,g6,b3,Bg7,Bb2,d6,e3,Nbd7,Nf3,O-O,Be2,Re8,Nbd2,e5,dxe5,Nxe5,Nxe5,dxe5,Qc2,b6,h4,Bb7,h5,g5,O-O-O,h6,Rhg1,a5,g3,a4,Nf3,Qe7,Nxe5,Be4,Bd3,Bxd3,Nxd3,Nxh5,Rge1,axb3,axb3,Bxb2+,Kxb2,Qf6+,Qc3', 'Ra2+,Kxa2,Qxc3', 'https://lichess.org/training/pr29r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PR2EE', 'Blitz', 'Aboulfazl-D', 1587, 'freebloodus', 1658, 'd4,d5,Nf3,e6,e3,a6,c4,Nc6,c5,h6,Nc3,Nf6,Bd2,Bd7,a3,Be7,b4,g5,Bd3,g4,Ne5,h5,Qc2,h4,Bg6,fxg6', 'Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/PR2EE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PR6Jq', 'Rapid', 'Rajangakak', 1850, 'gorlee2013', 1986, 'e4,e6,d4,d5,Nc3,Bb4,Bd3,dxe4,Bxe4,Nf6,Bg5,h6,Bxf6,Qxf6,Ne2,Qh4,Ng3,O-O,O-O,c6,Nce2,Nd7,c3,Ba5,a4,Bc7,Bc2,Nf6,Qd3,g6,Rfe1,Kg7,h3,Rh8,b4,g5,Ne4,Nh5,b5,f5,Nc5,b6,Nb3,cxb5,g4,bxa4,Rxa4,Nf4,Nxf4,gxf4,gxf5,exf5,d5,Bd6,Nd4,Kf7,Ne6,Rg8+,Kf1,a5,Qxf5+,Qf6,Qh5+,Rg6,Bxg6+,Qxg6,Nd8+,Kg7,Qxg6+,Kxg6,Ke2', 'Ba6+,Kf3,Rxd8', 'https://lichess.org/training/PR6Jq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PR6qS', 'Blitz', 'milmari', 1981, 'terribilaus', 2023, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,Nc6,Nf3,d6,exd6,Qxd6,Nc3,g6,Bc4,Be6,Nxd5,Bxd5,Bxd5,Qxd5,O-O,Bg7,Be3,O-O,a3,Rfd8,Rc1,Rac8,Qa4,e6,Rfd1,h5,h3,Qe4,Qb5,Rd7,b4,Rcd8,Bg5,f6,Be3,e5,d5,Rxd5,Rxd5,Qxd5,Qxb7,Rd7,Qxc6,Qd3,Qc3,Qf5,a4,Kh7,b5,g5,Qc2,e4,Nd4,Qd5,Qc6,Qf7,Nf5,Bf8,a5,g4,hxg4,hxg4,Qc4,Rd1+,Kh2,Qh5+,Kg3,Rxc1,Bxc1,Qxf5,Qf7+,Bg7,Qxa7,Qxb5,a6,Kg6,Qb7,Qe5+,Bf4,Qc3+,Kxg4', 'f5+,Kh4,Bf6+,Bg5,Bxg5#', 'https://lichess.org/training/PR6qS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pr76f', 'Rapid', 'Iamabani', 1723, 'hritik97-8', 1721, 'e4,c6,Nf3,d5,e5,Bg4,Nc3,e6,d4,Nd7,Be2,c5,O-O,Ne7,Bg5,Qb6,b3,Bxf3,Bxf3,cxd4,Ne2,Nf5,g4,Nh4,Bxh4,Nxe5,Nxd4,Qxd4,Qe2,Nxf3+,Qxf3,Be7,Bg3,O-O,Rad1,Qf6,Qd3,Rfd8,Kh1,Rac8,Rg1,Bd6,Bxd6,Rxd6,g5,Qc3,Qe2,Qxc2,Rd2,Qe4+', 'Qxe4,dxe4,Rxd6', 'https://lichess.org/training/pr76f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pr7gZ', 'Blitz', 'KillerR00k', 1862, 'Paco_de_Lucia', 1844, 'Nf3,Nf6,c4,g6,Nc3,Bg7,d4,d6,e4,O-O,Bd2,Na6,Be2,e5,d5,Nc5,Bg5,h6,Bxf6,Qxf6,b4,Na6,Rb1,Qe7,O-O,f5,h3,f4,a4,g5,Nh2,Kh8,Bg4,Bxg4,Qxg4,Qf7,a5,Qg6,Nb5,h5,Qe2,Rg8,f3,Qf7,Kh1,Raf8,Rb3,Ra8,Qc2,Bf6,c5,Be7,c6,b6,Qc4,Bd8,Nxd6,cxd6,Qxa6,Bc7,Qb7,Rgb8,Qa6,bxa5,Rfb1,axb4,Rxb4,Rxb4,Rxb4,Rb8,Rb7,Rc8,Qxa7,Kg7,Nf1,g4,hxg4,hxg4,fxg4,f3,Kg1,f2+,Kh2', 'Rh8+,Kg3,Qf4#', 'https://lichess.org/training/Pr7gZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PRaei', 'Blitz', 'ehsan243', 1613, 'ffernani', 1625, 'd4,d5,e3,e6,Bd3,c5,c3,c4,Bc2,Nc6,b3,b5,bxc4,bxc4,f4,Bd6,Nf3,Nge7,Ba4,Qc7,O-O,O-O,Bc2,Ng6,h4,h6,h5,Nh8,Nbd2,f6,Qe1,e5,fxe5,fxe5,dxe5,Nxe5,Nxe5,Bxe5,Rxf8+,Kxf8,Ba3+,Kg8,Qf2,Be6,Bb4,Nf7,Rf1,a5,Ba3,Bg3,Qf3,Ng5', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/PRaei');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PrasS', 'Rapid', 'elem444', 1652, 'ltl', 1726, 'e4,d5,exd5,Qxd5,c4,Qd8,Nf3,c6,d4,Nf6,Bg5,Bg4,Bxf6,exf6,Be2,Bb4+,Nc3,Bxc3+,bxc3,O-O,O-O,Nd7,d5,cxd5,cxd5,Nb6,d6,Qd7,Qd3,Rad8,Rfd1,Rfe8,Rab1,Qe6,Rd2,Nd7,Nd4,Bxe2,Rxe2,Qxd6,Rxb7', 'Nc5,Qc4,Nxb7', 'https://lichess.org/training/PrasS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PRd2t', 'Classical', 'aanand123', 1800, 'Manishsonal', 1794, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,bxc6,d3,d5,O-O,c4,dxc4,dxe4,Qxd8+,Kxd8,Rd1+,Ke8,Ng5,Bf5,Nc3,e3,Bxe3,Bxc2,Rd2,Bf5,Bd4,f6,Re1,e5,Nf3,Kf7,Nxe5+,fxe5,Bxe5,Nf6,Bxf6,Kxf6,Ne4+,Kg7,Ng3,Bb4,Nxf5+,gxf5,Rd7+,Kg6,Re6+,Kg5,Rg7+,Kh5,h3,Rag8', 'g4+,fxg4,hxg4+,Kh4,Rh6#', 'https://lichess.org/training/PRd2t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PrEbx', 'Rapid', 'NAHAN2000', 1618, 'Spich', 1662, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,Nxc6,Nf3,e5,Bb5,Bc5,O-O,a6,Ba4,b5,Bb3,Nd4,Nxe5,Nxb3,axb3,Bd6,Nc6,Bxh2+,Kh1,Qc7,Re1+,Kf8,Qf3,Bb7,Re7,Qxc6', 'Rxb7,Qxf3,gxf3', 'https://lichess.org/training/PrEbx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pRfCE', 'Rapid', 'wisnu_123', 1654, 'moserchess', 1831, 'Nf3,b6,b3,Bb7,Bb2,Nf6,d3,g6,Nbd2,Bg7,g3,O-O,Bg2,d5,O-O,Re8,c4,c6,Rc1,e5,Rc2,Nbd7,Qa1,d4,e3,c5,exd4,exd4,b4,Qc7,a4,Re2,a5,Rae8,a6,Ba8,bxc5,bxc5,Rcc1,Ng4,Rce1,h5,Qd1,Rxe1,Rxe1,Rxe1+,Qxe1,Nge5', 'Nxe5,Nxe5,Bxa8', 'https://lichess.org/training/pRfCE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pRFlW', 'Rapid', 'battotutti2002', 1801, 'MarcisMG', 1771, 'e4,e5,Nf3,d6,Nc3,Bg4,Be2,c6,h3,Bxf3,Bxf3,g6,O-O,Bg7,d3,Nf6,Bg5,Qb6,Rb1,Nbd7,Qd2,O-O,h4,h5,Bh6,Qd8,Ne2,Ng4,Bxg7,Kxg7,g3,Ngf6,Bg2,d5,f4,dxe4,fxe5,Nxe5,d4,Neg4,Rbe1,c5,Qf4,Re8,dxc5,Qa5,Bh3,Qxc5+,Kh1,Qe5,Bxg4,Qxf4,Nxf4,Nxg4,Re2,f5,Rd1,Rad8', 'Rxd8,Rxd8,Ne6+,Kf6,Nxd8', 'https://lichess.org/training/pRFlW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('prfnQ', 'Rapid', 'kijek', 2070, 'Smyslov66', 2218, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Qe7,Qe2,Nd5,c4,Nb6,b3,a5,g3,a4,Ba3,Qe6,Bxf8,Kxf8,Qb2,f6,f4,fxe5,fxe5,Ke7,Nd2,Rf8,Bg2,Ra5,Nf3,c5,O-O,h6,Nh4,axb3,Rxf8,Kxf8,Rf1+,Kg8,axb3,Ra7,Qf2,Bb7,Qxc5,Bxg2,Kxg2,Ra2+,Kg1,Qh3,Qf8+,Kh7,Qf5+,Qxf5,Rxf5,Rb2,Rf3,g5,Nf5,g4,Rd3,Kg6,Ne7+,Kf7,Nd5,Ke6,Nxb6,cxb6,Rd6+,Kxe5,Rxb6,h5,b4,Kd4,c5,Kc4,c6,dxc6,Rxc6+,Kxb4', 'Rb6+,Kc3,Rxb2,Kxb2,Kf2,Kc3,Ke3', 'https://lichess.org/training/prfnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pRfyE', 'Rapid', 'nevermore42', 1918, 'elFRipouille', 1955, 'e4,e5,f4,Nf6,Nc3,Nc6,Nf3,d5,fxe5,d4,exf6,dxc3,fxg7,Bxg7,bxc3,Bg4,d4,Qd7,Rb1,Rd8,Be2,O-O,O-O,b6,Ba3,Ne7,Ne5,Bxe2,Nxd7,Bxd1,Nxf8,Bxc2,Rbc1,Bxe4,Rfe1,f5,Ne6,Rd7,Nxg7,Kxg7,g4,Nd5,g5,Kg6,h4,Kh5,c4,Nf4,Rc3,Rxd4,Kf2,Nd3+,Ke3,c5,Rd1,f4+,Ke2,Kxh4,Rcxd3,Rxd3,Rxd3,Bxd3+,Kxd3,Kxg5,Ke4', 'Kg4,Bc1,f3', 'https://lichess.org/training/pRfyE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PRGdw', 'Rapid', 'p0pik', 1812, 'zagorac2105', 1907, 'e4,Nc6,f4,b6,Nf3,Bb7,d3,e6,Be2,Bc5,c3,Nf6,d4,Bf8,e5,Ne4,O-O,Ne7,Ng5,h6,Nxe4,Bxe4,Bh5,g6,Be2,Bb7,a4,a5,Na3,Nf5,g4,Rg8,gxf5,gxf5+,Kf2,Qh4+,Ke3,Qxh2,Rf2,Rg3+,Bf3,Qh5,Bd2,c5,Qh1,Qg6,Nc4,cxd4+,cxd4,Rc8,Nd6+,Bxd6,exd6,Rc2,Raf1,Rxb2,Bc3,Rb3,Kd2,Be4,Rg2,Bxf3', 'Rxg3,Bxh1,Rxg6,fxg6,Rxh1', 'https://lichess.org/training/PRGdw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PRGZr', 'Bullet', 'NM Chess-Network', 2690, 'NM JurgenSanchez97', 2658, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,Nd4,Bc4,e6,O-O,Ne7,d3,Nec6,a3,f5,e5,O-O,Nxd4,cxd4,Nb5,a6,Nd6,b5,Ba2,Rb8,Qf3,Bb7,Qg3,Ba8,Bd2,Qe7,h4,Kh8,Kf2,Rg8,Rh1,Bh6,Rae1,a5,b4,axb4,axb4,Nd8,Bb3,Nf7,Nxf7+,Qxf7,c3,dxc3,Bxc3,Rgc8,Bd4,Qe7,Bc5,Rxc5,bxc5,Qxc5+,Qe3,Qe7,Bd1,b4,Bf3,b3,Bxa8,Rxa8,Rb1,Qb4,Rb2,Bxf4,Qf3,Bxe5,Rbb1,Bd4+,Kg3,Ra2,Kh3,Be5,d4,Qxd4,Rhd1,Qa7,Rxb3,Bf6,Rb7,Qa4,g3,Ra3,Rdxd7,Rxf3', 'Rb8+,Bd8,Rbxd8#', 'https://lichess.org/training/PRGZr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pRiyp', 'Rapid', 'kukonosau', 2153, 'aruo', 2085, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd3,c5,Nf3,cxd4,exd4,b6,O-O,Bb7,Bg5,Be7,Re1,h6,Bh4,d6,Qe2,Nbd7,Bxf6,Nxf6,Ne4,Bxe4,Bxe4,Nxe4,Qxe4,Qc7,d5,e5,b4,Rac8,Rac1,f5,Qe2,Bf6,Red1,g5,Nd2,Qd7,Nb3,Qa4,Qd2,f4,c5,bxc5,bxc5,e4,c6,Rfe8,Nd4,e3,fxe3,fxe3,Qd3,Bxd4,Qxd4,Qxa2,Qf6,Qf2+,Qxf2,exf2+,Kxf2,Re5,Rc3,Kg7,Re3,Kf6,Rf3+,Rf5,Rxf5+,Kxf5,Ke3,Ke5,Rd4,a5,Kd3,a4,Kc4,a3,Rd2,Ra8,Ra2,Ra7,Kb4,Kxd5,Rxa3', 'Rxa3,Kxa3,Kxc6', 'https://lichess.org/training/pRiyp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pRj6L', 'Rapid', 'juniorcruz', 1640, 'Firas94', 1621, 'd4,Nf6,c4,d5,Nc3,c6,Nf3,g6,Bg5,Bg7,e3,O-O,Bd3,dxc4,Bxc4,Nbd7,O-O,Nb6,Bd3,Bg4,a4,a5,h3,Bxf3,Qxf3,Qc7,Bf4,Qc8,b3,Qe6,Rab1,Nbd5,Nxd5,Nxd5,Bh2,Qd7,Rbc1,Rad8,e4,Nb4,d5,Nxd3,Qxd3,Rc8,Rfd1,cxd5,exd5,Rxc1,Rxc1,e6,Rc7,Qxd5,Qxd5,exd5,Rxb7,Rd8,Kf1,Bc3,Ke2,d4,Kd3,Re8,Rd7,Re1,Bc7,Rd1+,Kc4,Bb4,Rxd4', 'Rc1+,Kb5,Rxc7', 'https://lichess.org/training/pRj6L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('prkG4', 'Blitz', 'wcampanelli', 1514, 'nik_siv', 1521, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,Bc4,Bc5,Qf3,Qe7,d3,d6,O-O,Nf6,Bg5,h6,Bxf6,gxf6,Nd2,Rg8,g3,Bg4,Qf4,O-O-O,Nb3,d5,exd5,Bd6,Qe4,Be5,Nxd4,Rg5,Nf3,Bf5,Qh4,Rg4,Qxh6,Rdg8,Qe3,Bxg3,Qxe7,Bxh2+,Kxh2', 'Rh8+,Nh4,Rhxh4#', 'https://lichess.org/training/prkG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('prkvS', 'Blitz', 'fastonly', 1966, 'charletsgo95', 1857, 'Nf3,d5,c4,d4,g3,Bg4,Bg2,Nf6,Ne5,c6,Nxg4,Nxg4,O-O,h5,e3,dxe3,fxe3,e6,d4,Nd7,Qf3,Qf6,Nc3,Qxf3,Rxf3,O-O-O,h3,Ngf6,a3,Bd6,Bd2,Nh7,Rxf7,Bxg3,Rxg7,Rdg8,Rxg8+,Rxg8,Kh1,h4,Rf1,Nhf6,Ne2,Bc7,Be1,Rh8,Nf4,Nh5,Nxe6,Ng3+,Bxg3,Bxg3,Rf7,Re8,d5,Ne5,Rh7,Nd3,b4,Nf2+,Kg1,Nd1,e4,Nc3,Kf1,Nb1,a4,Nd2+,Ke2,Nxc4,Nd4,cxd5,Kd3,Nb2+,Kc2,Nxa4,exd5,Nb6,d6,Bxd6', 'Bxb7+,Kd8,Nc6#', 'https://lichess.org/training/prkvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PRlL6', 'Rapid', 'TravyWumbo', 1703, 'OhjayE', 1730, 'e4,d5,exd5,Qxd5,c4,Qd8,Nc3,e6,Nf3,Bb4,Qc2,Nf6,a3,Bxc3,Qxc3,O-O,d4,Nc6,b4,Ne4,Qb2,b6,b5,Na5,Bd3,Nd6,c5,bxc5,dxc5,Ndb7,Be4,Rb8,O-O,Nxc5,Ng5,h6,Nh7,Nxe4,Nxf8,Kxf8', 'Qb4+,c5,Qxe4', 'https://lichess.org/training/PRlL6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PRLwa', 'Blitz', 'gior_amp', 1894, 'GM Arnelos', 2734, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Nf3,Bg4,h3,Bxf3,Qxf3,cxd4,cxd4,Nxd4,Qc3,Rc8,Qxd4,Rxc1+,Kd2,Rxf1,Rxf1,a6,Qa4+,Qd7,Qxd7+,Kxd7,Nc3,e6,f4,Ne7,Ne2,Nc6,Rac1,Be7,a3,h5,b4,Bd8,Rc2,Bb6,Rfc1,h4,Ng1,Nd4,Rc3,Rh6,Nf3,Nxf3+,gxf3,Rg6,Rc8,Rg2+,Kd1,Rg3,Ke2,Rg2+,Kf1,Rf2+,Ke1,Rxf3,Rb8,Bd4,Rxb7+,Kd8,Rxf7,Bxe5,Rc6,Bxf4,Rxe6', 'Bg3+,Kd2,Rxf7', 'https://lichess.org/training/PRLwa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PROc4', 'Classical', 'rombaguntur', 1936, 'AwareTenacious2', 1896, 'd3,d5,e4,dxe4,Nc3,exd3,Bxd3,Nf6,h3,g6,Bg5,Bg7,Nf3,O-O,Qd2,Re8,Bh6,Bh8,h4,e5,O-O-O,Bg4,h5,Nxh5,Ne4,Nd7,Bg5,f6,Bc4+,Kf8,Rxh5,gxh5,Bh6+,Bg7,Bxg7+,Kxg7,Nh4,Nb6,Bd3,f5,Nxf5+,Bxf5,Qe2,Bg6,Ng3,Qg5+,Kb1,Rad8,Ne4,Bxe4,Qxe4,Qg6,Qxb7,Rxd3,Rxd3,Re7', 'Rg3,Qxg3,fxg3', 'https://lichess.org/training/PROc4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PRODx', 'Blitz', 'Morboj', 2159, 'FM lindenice', 2277, 'Nf3,d5,d3,e5,Nbd2,f5,e4,dxe4,dxe4,Nc6,Bb5,Bd7,O-O,Bd6,exf5,Nf6,Re1,O-O,Bc4+,Kh8,Ng5,Qe8,Ne6,Bxe6,fxe6,Nd4,Ne4,Nxe4,Rxe4,Qc6,Bd3,Nxe6,Qh5,g6,Qh6,Rf7,Bd2,Raf8,f3,Nc5,Rc4,Qd5,Bc3,Nxd3,cxd3,Qxd3,Re4,Rxf3,gxf3,Bc5+,Bd4,Bxd4+,Rxd4,Qxd4+,Kg2,Qxb2+,Kg3,Rf5', 'Rd1,Qxa2,Rd8+', 'https://lichess.org/training/PRODx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pROfC', 'Rapid', 'farit1953', 1942, 'Fritz_Fantom', 1886, 'e4,Nf6,e5,Nd5,d4,Nb6,Nf3,d6,exd6,cxd6,Be2,g6,O-O,Bg7,Be3,Nc6,c3,d5,Re1,O-O,Nbd2,Bf5,Nf1,Nc4,Bc1,Qc7,Ng3,Bg4,h3,Bxf3,Bxf3,Rad8,b3,Nb6,Be3,Rfe8,Qd2,e5,Bh6,e4,Bxg7,Kxg7,Bd1,Re6,Bc2,Rde8,Qg5,Qe7', 'Nf5+,Kg8,Nxe7+', 'https://lichess.org/training/pROfC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PRple', 'Rapid', 'TALIH17', 1689, 'AhmedYehiamohamed', 1640, 'e4,e5,Nf3,Nc6,Bc4,Na5,Bxf7+,Kxf7,Nxe5+,Ke7,Qh5,Qe8,Qg5+,Nf6,O-O,h6,Ng6+,Kd8,Qxa5,Qxg6,Qf5,Qxf5,exf5,d5,g4,Nxg4,h3,Nf6,Nc3,Bxf5,d3,g5,Be3,Bxh3,Rfe1,c6,Bd4,Bg7,Re3,Bd7,Rae1,Kc7,Re7,Rhg8,Rf7,Raf8,Rfe7,Rd8,Na4,Rde8,Nc5,b6,Nxd7,Rxe7,Rxe7,Kd6,Nxf6,Kxe7', 'Nxg8+,Kf7,Bxg7,Kxg7,Ne7', 'https://lichess.org/training/PRple');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PrQL4', 'Blitz', 'TKchess1', 2435, 'IM Wilsonpalencia', 2446, 'd4,Nf6,c4,e6,g3,d5,Bg2,dxc4,Nf3,c6,O-O,b5,Ne5,Bb7,a4,a6,b3,cxb3,axb5,axb5,Rxa8,Bxa8,Qxb3,Qb6,Nc3,Bb7,Rd1,Be7,Ba3,Bxa3,Qxa3,b4,Qb3,Nbd7,Na4,Qa5,Nxc6,Qa8,d5,Nxd5,Bxd5,Bxc6,Bxc6,Qxc6,Qxb4,Qc7,Qb5,Ke7,Nc3,Rb8', 'Rxd7+,Qxd7,Qxb8', 'https://lichess.org/training/PrQL4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pRQXI', 'Rapid', 'coachpotato123', 1769, 'davoglio007', 1827, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,d6,Re1,Be7,c3,Na5,Bc2,Bg4,h3,Bd7,d3,h6,Nbd2,O-O,Nf1,Re8,Ng3,Bf8,Qe2,c5,b3,Qb6,Bd2,Rac8,Rac1,c4,b4,cxd3,Bxd3,Nc4,Bxc4,Rxc4,a4,Bc6,Be3,Qb7,axb5,axb5,Nd2,Nxe4,Nxc4,Nxg3,fxg3,bxc4,Rf1,d5,Rf2,d4,cxd4', 'exd4,Qxc4,dxe3', 'https://lichess.org/training/pRQXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('prRgr', 'Rapid', 'Azizuzumcuk', 1612, 'yusuf147', 1639, 'e4,c5,c4,Nc6,a3,Nf6,d3,g6,Nc3,Bg7,h3,O-O,Nf3,e6,Bg5,d5,cxd5,exd5,exd5,Qe8+,Be2,Ne7,Bxf6,Bxf6,O-O,Bxc3,bxc3,Nxd5,c4', 'Nc3,Qd2,Nxe2+', 'https://lichess.org/training/prRgr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PrT5Y', 'Blitz', 'dsemiraro', 1969, 'gavon', 1938, 'd4,Nf6,Nc3,d5,Nf3,c5,Bg5,e6,Bxf6,Qxf6,dxc5,Bxc5,e4,dxe4,Nxe4,Qe7,Nxc5,Qxc5,Bd3,Bd7,O-O,Nc6,a3,Ne5,b4,Nxf3+,Qxf3,Qc7,Be4,Rb8,c4,O-O,Rac1,b6,c5,Qe5,c6,Be8,Rfe1,f5,Bb1,Qc7,Ba2,Bf7,Bxe6,Bxe6,Rxe6,Rbe8,Rxe8,Rxe8,Qxf5,Qxc6,Qb1,Qa4,Qa2+,Kf8,h3,a5,Rc7', 'Qd1+,Kh2,Qd6+,g3,Qxc7', 'https://lichess.org/training/PrT5Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pRULT', 'Bullet', 'serkanyb', 1612, 'NASAUSSR', 1622, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,dxc5,Bxc5,Bb5+,Nc6,O-O,Ne7,Bg5,f6,Bh4,O-O,h3,Qb6,c4,d4,Bxc6,bxc6,b3,Nf5,Bg3,Nxg3,fxg3,d3+,Kh2,Bf5,Nh4,Bd4,Nxf5,Bxa1,Qxd3,Rad8,Ne7+,Kf7,Qe4,Rfe8,Re1,Qc5', 'Qe6+,Kf8,Qg8#', 'https://lichess.org/training/pRULT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PRVMu', 'Rapid', 'gooerr', 2109, 'Abbas2012', 2107, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,h6,Nf3,e4,Ne5,Bd6,d4,exd3,Nxd3,O-O,O-O,Re8,b4,Nc4,Na3,Nxa3,Bxa3,Ba6,Re1,Rb8,Nc5,Bxe2,Rxe2,Rxe2,Qxe2,Bxc5,bxc5,Qd4,Rd1,Qc3,Qd3,Nd5,h3,Re8,Qxc3,Nxc3,Rd3,Nxa2,Bb2,Nc1,Rg3', 'Ne2+,Kh2,Nxg3', 'https://lichess.org/training/PRVMu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PRvq6', 'Rapid', 'WouGamer', 1614, 'jaceeboi', 1605, 'd4,d5,Nf3,Bf5,g3,e6,Bg2,Nc6,O-O,Bg4,h3,Bh5,Bf4,Nf6,Nbd2,h6,c3,g5,Be3,Qd6,Nh2,O-O-O,g4,Bg6,f4,Be7,fxg5,hxg5,Bxg5,Nh7,Bf4,Qd7,Ndf3,f6,Bg3,Rhf8,Nh4,Be8,e3,e5,Qc2,e4,Rf2,Bd6,Nf5,Bg6,Nxd6+,cxd6,Raf1,Na5,b3,Kb8,a4,Rc8,Rc1,f5,Bf4,fxg4,hxg4,Nf6,Bh3,Rh8,Kg2,Qg7,g5,Ne8,Bxc8,Kxc8,Rh1,Qh7,Rff1,Qh3+,Kg1,Ng7,Kf2,Bh5,Rfg1,Ne6,Bxd6,Bf3,Nxf3', 'Qxf3+,Ke1,Rxh1', 'https://lichess.org/training/PRvq6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('prVsS', 'Classical', 'Boris_Shirokikh', 1663, 'ChangizThm', 1725, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,a6,Bxc6,dxc6,Nxe5,Bd6,Nf3,O-O,O-O,Re8,Re1,Bg4,h3,Bh5,g4,Bg6,e5,Bc5,exf6,Qxf6,d3', 'Rxe1+,Qxe1,Qxf3', 'https://lichess.org/training/prVsS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PRVUA', 'Rapid', 'Panag', 1738, 'LikesTal', 1902, 'd4,Nf6,e3,d5,Bd3,Nc6,f4,Bg4,Nf3,Qd7,c3,O-O-O,Nbd2,Ne4,Nxe4,dxe4,Bxe4,f5,Bd3,Rg8,O-O,g5,fxg5,Rxg5,h3,Bxh3,Nxg5,Bxg2,Kxg2,Bh6,Rxf5,e6,Rc5,b6,Rb5,Rg8,e4,a6,Re5,Nxe5,dxe5,Qe7,Bxa6+,Kb8,Be2,Bxg5,Bxg5,Qxg5+,Kf2,Qh4+,Ke3,Qg3+,Bf3,Qg5+,Ke2,Qxe5,Qh1,Qb5+,Ke3,Qc5+,Kd2,Qf2+,Be2', 'Rd8+,Kc2,Qxe2+', 'https://lichess.org/training/PRVUA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PrVZe', 'Rapid', 'milan0407', 1859, 'MaxVerstappen33', 1783, 'e4,c5,Nf3,d6,Nc3,a6,d4,cxd4,Nxd4,e6,Be2,b5,a3,Bb7,Bf3,h6,O-O,Nf6,b4,Qc7,Bb2,Nc6,Nxc6,Bxc6,Re1,Rc8,Rc1,g5,h3,e5,Nd5,Bxd5,exd5,Bg7,Bg4,Rd8,Bf3,O-O,Ba1,Rfe8,Qd3,Qc4,Qxc4,bxc4,c3,e4,Be2,Nxd5,Bxc4,Nf4,g3,Nxh3+,Kg2,g4,Bxa6,Ra8,Bb5,Re7,a4,f5,c4,f4,Bxg7,Kxg7,a5,e3,gxf4,Nxf4+,Kg3,Nd3,Rxe3', 'Rxe3+,fxe3,Nxc1', 'https://lichess.org/training/PrVZe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PrwXz', 'Blitz', 'NM l8pawn', 2270, 'bandusa', 2293, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Bd7,Nf3,Bc6,Bd3,Nd7,O-O,Ngf6,Qe2,Be7,c3,O-O,Bf4,Re8,Rfd1,Nxe4,Bxe4,Bxe4,Qxe4,c6,Rac1,Qa5,a3,Rad8,c4,h6,Qe3,Bf6,b4,Qf5,Bg3,b5,cxb5,cxb5,Be5,Nb6,Bxf6,Qxf6,Ne5,Nd5,Qf3,Qxf3,Nxf3,Rc8,Rc5,a6,Rdc1,Ra8,Ne5,f6,Nc6,Nb6,Na5,Rab8,Kf1,Kf7,Rc7+,Re7', 'Rxe7+,Kxe7,Nc6+,Kd6,Nxb8', 'https://lichess.org/training/PrwXz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('prySr', 'Rapid', 'kingcaptur3', 1614, 'StromShadowII', 1609, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,d6,Nf3,Bg4,Be2,c5,d5,O-O,O-O,Re8,Re1,e5,Be3,b6,a3,Bc8,b4,Ng4,Bg5,Bf6,Bxf6,Qxf6,bxc5,bxc5,Rb1,a6,Rb3,Nd7,h3,Nh6,Qc2,Kg7,Reb1,Rh8,Na4,Nf8,Rb6,Nd7,R6b3,Qd8,Nb6,Nxb6,Rxb6,Re8,Rc6,Re7,Rbb6,Rb7,Rxd6,Qe7,Qb2', 'Qxd6,Rxb7,Bxb7', 'https://lichess.org/training/prySr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('prZrA', 'Rapid', 'vinsu11', 1860, 'sahatmorrow', 1842, 'e4,c5,d4,cxd4,Nf3,d5,exd5,Bg4,Qxd4,Bxf3,gxf3,Nf6,Bf4,Qxd5,Qa4+,Nfd7,Bc4', 'Qxf3,Bxf7+,Kxf7', 'https://lichess.org/training/prZrA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ps0CD', 'Rapid', 'tarnival', 1935, 'kenobiz', 1948, 'e4,e5,Nf3,d6,Nc3,Nf6,Bc4,Be7,d4,exd4,Nxd4,Nc6,Be3,a6,O-O,Ne5,Bb3,c5,Nf3,Nc6,Qd2,b5,a3,Bb7,Bd5,Qc7,Ng5,O-O,Rad1,h6,Nh3,Rad8,Bxh6,gxh6,Qxh6,Nh7,f4,Bf6,Ng5,Nxg5,fxg5,Bg7,Qh5,Ne5,g6,Bxd5', 'Qh7#', 'https://lichess.org/training/Ps0CD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pS0Kb', 'Blitz', 'nystart', 1675, 'naprimervasilij', 1694, 'c4,g6,Nc3,Bg7,d4,d6,e4,Nc6,f3,Nxd4,Be3,Nc6,Nge2,Bd7,Qd2,e5,Nd5,Nge7,Bh6,Bxh6', 'Nf6+,Kf8,Qxh6#', 'https://lichess.org/training/pS0Kb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pS3aj', 'Blitz', 'Aleksandr79', 2225, 'Schachidiot', 2033, 'e4,d6,f4,Nf6,d3,e5,Be2,c6,Bf3,Be7,Ne2,O-O,O-O,Nbd7,fxe5,Nxe5,Nd2,d5,Kh1,Nxf3,gxf3,dxe4,fxe4,b6,Nf3,c5,Bd2,Bb7,Bc3,Qd7,Nf4,Rad8,Qe2,b5,b3,c4,bxc4,bxc4,Ne5,Qc7,Nxc4,Nxe4,dxe4,Rc8,Rg1,f6,Nd5,Qxc4,Nxe7+,Kf7,Qh5+,g6,Qxh7+,Ke6,Nxc8', 'Qxe4+,Rg2,Qxg2#', 'https://lichess.org/training/pS3aj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ps3P9', 'Classical', 'jenspetermann', 1698, 'MRJ2013', 1801, 'e4,e6,Nf3,b6,d4,Bb7,Bd3,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nxe4,Bxe4,Bxe4,O-O,Bxf3,Qxf3,c6,d5,cxd5,Bxg7,Rg8,Bd4,Qg5,Rfe1,Nc6,Be3,Qg4,Qxg4,Rxg4,c3,Re4,f3,Re5,b4,Ne7,a4,Nf5,Bd2,Rxe1+,Rxe1,Nd6,f4,Nc4,Bc1,Rc8,f5,Nd6,g4,Rxc3,fxe6,dxe6,Bd2,Rc4,a5,Ne4,axb6,axb6,Be3,b5,Ra1,Kd7,Ra7+,Rc7,Ra5,Rb7,Kg2,Nd6,Bc5,Ne4,Ra6,Nxc5,bxc5,b4', 'c6+,Kc7,cxb7', 'https://lichess.org/training/ps3P9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pS4Ak', 'Rapid', 'aig', 1904, 'nigelfaragemep', 2041, 'e4,c6,c3,d5,Bd3,dxe4,Bxe4,Nf6,Bc2,Bg4,f3,Bh5,Ne2,e6,O-O,Bd6,d4,Qc7,Bf4,Bxf4,Nxf4,Qxf4,Nd2,Bg6,Ne4,Nxe4,fxe4,Qe3+,Kh1,Bxe4,Qg4,Bxc2,Qxg7,Rf8,Rae1,Qd3', 'Rxe6+,Kd8,Qxf8+', 'https://lichess.org/training/pS4Ak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ps8af', 'Rapid', 'NateRiver93', 1720, 'gabrielsanglard', 1647, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bb4,a3,Bxc3,bxc3,Nxe4,d3,Nxc3,Qd2,Na4,O-O,d5,Bb5,Nc5,Nxe5,Qf6,Re1,O-O,Nxc6,bxc6,Qb4,Qxa1,Bxc6,Na6', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/ps8af');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PsAcQ', 'Rapid', 'Yorgos12', 1656, 'virgintiger', 1637, 'e4,c5,d4,cxd4,Nf3,e6,Nxd4,Nf6,e5,Nd5,Bc4,d6,exd6,Bxd6,Qe2,Nf4,Bxf4,Bxf4,Nf3,O-O,Nc3,Nc6,Bd3,Bh6,Rd1,Qb6,Na4,Qb4+,Nc3,Nd4,Qe4,f5', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/PsAcQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('psAiF', 'Blitz', 'GM Gabix94', 2641, 'xxxDEADMANNxxx', 2559, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Be7,Bf4,O-O,e3,c5,cxd5,Nxd5,Nxd5,exd5,dxc5,Bxc5,Bd3,Bb4+,Ke2,Nc6,Qc2,h6,Rhd1,Be6,Rac1,Qf6,Kf1,Rac8,Qe2,Rfd8,Bg3,g5,a3,Bd6,Kg1,Bxg3,hxg3,a6,b4,Kg7,Rc5,Ne5,Nd4,Bg4,f3,Be6,g4,Rxc5,bxc5,Rc8,Rc1,Qe7,Bf5,Rxc5,Rxc5,Qxc5,Bxe6,Qc1+,Kh2,fxe6,Nxe6+,Kf6,Nd4,Qxa3,Qc2,Qd6,Qf5+,Kg7,f4,gxf4,exf4,Ng6,g3,Qf6,Qxd5,b5,Nf5+,Kh8,Qa8+,Nf8,Qe8,b4,Qb8,a5,Kh3,Qf7,Nxh6,Qf6,g5,Qe6+,f5,Qe7,f6,Qe6+,Kh4,Qe4+,g4,Qh1+,Kg3,Qg1+,Kf3,Qf1+,Ke4,Qe2+,Kd5,Qd3+,Kc5,Qc3+,Kb5,Qd3+,Kxa5,Qd5+,Kxb4,Qd4+,Kb5', 'Qb2+,Kc5,Qxb8', 'https://lichess.org/training/psAiF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('psalB', 'Rapid', 'ElVaquerito', 1761, 'Aliett', 1866, 'e4,d5,exd5,Nf6,d4,Bg4,f3,Bf5,Bb5+,c6,dxc6,Nxc6,Nc3,Bd7,Bg5,e6,Nge2,Bb4,O-O,Qb6,Be3,Qc7,d5,exd5,Nxd5,Nxd5,Qxd5,O-O-O,Bxc6,Bxc6,Qf5+,Bd7,Qxf7,Rhe8,Qb3,Bd6,h3,Kb8,Nd4,a6,Ne2,Bc8,Bb6', 'Bc5+,Bxc5,Qxc5+', 'https://lichess.org/training/psalB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PsBUm', 'Rapid', 'MANVEL-2012', 1873, 'jr_poison', 1954, 'e4,e5,Nf3,Nc6,a3,Bc5,c3,Nf6,Qc2,d5,exd5,Qxd5,b4,Bb6,c4,Bxf2+,Kxf2,Qd6,d3,Nd4,Qc3,Nxf3,gxf3,O-O,Bg2,Rd8,Rd1,Bf5,c5,Qd4+,Qxd4,Rxd4,Ke3,Rad8,Bb2,Rxd3+,Rxd3,Rxd3+,Ke2,Nd7,Nc3,f6,Bh3,Bxh3,Kxd3,Kf7,Nd5,c6,Ne3,Ke6,Rg1,g5,Rg3,Bf5+,Nxf5,Kxf5,Ke3,h5,Rh3,h4,a4,Nf8,Kf2,Ng6,b5', 'Nf4,Rxh4,gxh4', 'https://lichess.org/training/PsBUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PSE2s', 'Rapid', 'sesanilim', 1772, 'BogomilTodorov', 2064, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Ng3,e4,Ng1,g6,d3,exd3,Qxd3,Ne5,Qb3,c6,Bf4,Bg7,O-O-O,Nc4,c3,b5,Qc2,a5,Nf3,Qf6,Bg5,Qd6,Rhe1,Be6,Nd4,Bxd4,Rxd4,h6,Bf4,Qe7,Be5,Nxe5,Rxe5,Qf6,Qe2,Rhe8,f4,c5,Rd2,Qxf4,Re3,Qg5,Rf3+,Kg7,Qe3,Qe7,h3,Rac8,Re2,Qd7,Qe5+,Kh7,Qf6,Rf8', 'Qxe6,Qxe6,Rxe6', 'https://lichess.org/training/PSE2s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pse80', 'Rapid', 'chamelo1585', 1814, 'joeclahh', 1823, 'd4,Nf6,c4,e6,a3,c5,d5,exd5,cxd5,d6,Nc3,g6,e4,Bg7,Nf3,O-O,Be2,Re8,O-O,a6,a4,Nxe4,Nxe4,Rxe4,Bd3,Re8,Qc2,Nd7,Bf4,Nf6,Bc4,Bf5,Qb3,Qc7,h3,Rab8,Rfe1,Bd7,Rxe8+,Rxe8,Qd3,Rb8,g4,b5,axb5,axb5,Ba2,c4,Qd1,Ne4,Qc2,f5,Nh2,Re8,Re1,Be5,Bxe5,dxe5,f3,Nc5,Qd2,Qd6,Bb1,e4,fxe4,fxe4,Qg5,Kg7,Kg2,h6,Qe3,Nd3,Qd4+,Re5,Bxd3,cxd3', 'Rxe4,Qxd5,Qxe5+,Qxe5,Rxe5', 'https://lichess.org/training/Pse80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PSErq', 'Blitz', 'PekeCatriel', 1581, 'tripleseis', 2106, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,Ng5,O-O,d3,h6,h4,d6,Bd2,Na5,Nd5,Nxc4,dxc4,c6,Ne3,Re8,Qe2,hxg5,hxg5,Nxe4,Qh5,Kf8,Qh8+,Ke7,Qxg7,Kd7', 'Qxf7+,Re7,Qf5+,Kc7,Qxe4', 'https://lichess.org/training/PSErq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('psGck', 'Blitz', 'Zaharik_Plyuta', 1952, 'PAPAFENIX95', 1966, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,d3,d6,Be3,Nf6,Qd2,Ng4,Bf4,e5,Bg5,Qb6,Nd5,Qxb2,Rd1,O-O,h3,Nd4,Rc1,f6,hxg4,fxg5,Qxg5,Nxc2+,Rxc2,Qxc2,Ne7+,Kh8,Rxh7+,Kxh7', 'Qxg6+,Kh8,Qh5+,Bh6,Qxh6#', 'https://lichess.org/training/psGck');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PSgul', 'Rapid', 'ElysianTri', 2203, 'kijek', 2210, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,d6,e3,O-O,Nf3,c5,h3,cxd4,exd4,Bf5,Bd3,Bxd3,Qxd3,Nbd7,O-O,Qc7,Rfe1,Rfe8,c5,Qc6,cxd6,exd6,Nb5,Nd5,Bg3,Nb4,Rxe8+,Rxe8,Qf1,Bf8,Nxa7,Qd5,Nb5,Rc8,Nc3,Qc4,a3,Qxf1+,Kxf1,Nd3,Rb1,Nf6,Ke2,Nxb2,Rxb2,Rxc3,Rxb7,Rxa3,Rb8,Ra2+,Kd3,Kg7,Bh4,Ra3+,Kc4', 'd5+,Kb5,Rb3+,Kc6,Rxb8,Bxf6+,Kxf6', 'https://lichess.org/training/PSgul');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('psgVG', 'Rapid', 'YurySemenov', 1837, 'Ishblazer72', 1819, 'e4,e6,Bc4,d5,exd5,exd5,Bb5+,Bd7,Nc3,Bxb5,Nxb5,Nf6,d4,a6,Nc3,Bd6,Bg5,h6,Bxf6,Qxf6,Nxd5,Qg5,Ne3,O-O,Nf3,Qa5+,c3,Nc6,O-O,Qh5,h3,Rfe8,Nc4,Bf4,Re1,b5,Nfe5,Nxe5,Qxh5,Nxc4,b3,Nd6,Rxe8+,Rxe8,Kf1,Bd2,Qf3,Ne4,Qd3,Bxc3,Rc1,Nd2+,Kg1,Ba5,a3,Ne4,Qe2,Kf8,b4,Bb6,Qd3,Nd6,Kf1,Re4,Re1,Rxd4,Qf3,Kg8,Qa8+,Kh7,Qxa6,Rd2,Re7,Rxf2+,Ke1,Rxg2,Qa8,Ra2,Re2,Ra1+,Kd2,Nc4+,Kd3', 'Rxa3+,Qxa3,Nxa3', 'https://lichess.org/training/psgVG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PSiCS', 'Rapid', 'gabs92', 1650, 'speddygonzalez', 1667, 'e4,c5,Nf3,Nf6,Nc3,d6,d4,cxd4,Nxd4,g6,Bg5,Nfd7,Ndb5,a6', 'Nxd6+,exd6,Bxd8', 'https://lichess.org/training/PSiCS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PSihk', 'Rapid', 'Kab1', 1702, 'Juan-Angel', 1747, 'g3,Nf6,Bg2,d5,d3,e5,Bg5,Nbd7,Bxf6,Nxf6,Nc3,d4,Ne4,Nxe4,Bxe4,Bb4+,Kf1,O-O,a3,Bd6,Bg2,c6,Nf3,f5,e3,dxe3,fxe3,Qb6,Qe2,Qxb2,Kf2,e4,dxe4,fxe4,Rab1,exf3', 'Qc4+,Kh8,Rxb2,fxg2+,Kxg2', 'https://lichess.org/training/PSihk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('psisF', 'Rapid', 'BeRNI17103', 1798, 'Juusal', 1773, 'e4,d6,d4,c6,Nc3,Nf6,Bc4,d5,exd5,cxd5,Bb3,e6,Nf3,Ne4,O-O,Nxc3,bxc3,Bd6,Bg5,Be7,Bxe7,Qxe7,Ne5,O-O,Qf3,Nc6,Nxc6,bxc6,c4,dxc4,Bxc4,Bb7,Qg3,Rac8,Rfe1,Qb4,Bd3,Qxd4,Rad1,Qf6,Re4,c5,Rf4,Qh6', 'Rh4,Qxh4,Qxh4', 'https://lichess.org/training/psisF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pSj9v', 'Rapid', 'dcasta', 1999, 'DrFatos', 1708, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bf5,O-O,Bd6,Re1,O-O,c4,c6,Bg5,Nxg5,Bxf5,Nxf3+,Qxf3,g6,Bd3,Bb4,Nc3,Bxc3,bxc3,Nd7,Re3,Nf6,Rae1,Re8,Re5,Rxe5,dxe5,Nd7,cxd5,cxd5,Qxd5,Qc7,Bc4', 'Nb6,Qxf7+,Qxf7,Bxf7+,Kxf7', 'https://lichess.org/training/pSj9v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('psjRK', 'Rapid', 'naborjs', 2180, 'davoud8', 2226, 'e4,c5,Ne2,Nc6,g3,g6,Bg2,Bg7,Nbc3,e6,d3,Nge7,Bg5,O-O,Qd2,Nd4,h4,h6,Be3,Kh7,Bxd4,cxd4,Nb5,Qb6,c4,dxc3,Nbxc3,d6,O-O,Bd7,a4,Nc6,Nb5,Ne5,d4,Bxb5,axb5,Nc4,Qb4,Rfc8,Rfc1,a5,Qc3,Qxb5,Bf1,d5,e5,Qxb2,Qxb2,Nxb2,Rxc8,Rxc8,Rxa5,Bf8,Rb5,Rc2,Rxb7,Kg8,Nf4,Nc4,Rc7,Rc1,Nd3,Rd1,Kg2,Rd2,Kf3,Rd1,Ke2,Ra1,Nc5,Ra2+,Kf3,Nd2+,Kg2,h5,Rc8,Rc2,Bd3,Rc3,f3,Kg7', 'Nxe6+,fxe6,Rxc3', 'https://lichess.org/training/psjRK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PSMX7', 'Rapid', 'yyamac2307', 1816, 'AdzynQ', 1815, 'd4,d5,c4,dxc4,Nc3,Be6,Bf4,a6,a4,c6,e3,Nf6,Nf3,Bd5,Qc2,Bxf3,gxf3,b5,axb5,cxb5,Nxb5,Nd5,Bg3,e6,e4,Bb4+,Kd1,Nd7,exd5', 'axb5,Rxa8,Qxa8', 'https://lichess.org/training/PSMX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PsojS', 'Rapid', 'Doppelkrone', 1850, 'KaraliusD', 1749, 'e4,c5,Nf3,g6,d4,Qb6,dxc5,Qxc5,Be3,Qc6,Nc3,Bg7,Bb5', 'Bxc3+,bxc3,Qxb5', 'https://lichess.org/training/PsojS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pSow7', 'Blitz', 'Mosaoudi', 1959, 'SilentSheep1', 1832, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be2,Bc5,Be3,a6,Nxc6,bxc6,Bxc5,Qa5,Bd6,Nxe4,O-O,Nxc3,bxc3,Qxc3,Bf3,a5,Re1,Ba6,Re3,Qc4,Be2,Qh4,Bxa6,Rxa6,Qd3,Rb6,Qc3,Qg5,Rg3,Qh6,Bc5,Rb5,Qe5,f6,Qd6,Kd8,Rd1,Rb7,Qe7+,Kc8,Rxg7,Qh5,Rxd7', 'Rb1+,Rd1,Qxd1#', 'https://lichess.org/training/pSow7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pspDP', 'Classical', 'estudante_77', 1723, 'aacl25', 1706, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nc4,Be6,e5,dxe5,Nxe5,Qe7,Nc3', 'Bg4,Be2,Qxe5', 'https://lichess.org/training/pspDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pspwj', 'Blitz', 'Dolphin_2010', 1964, 'dryfish', 1856, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,c6,e3,h6,Bh4,Bd6,Nf3,Nbd7,Bg3,Be7,Be2,O-O,cxd5,exd5,O-O,Nh5,a3,Nxg3,hxg3,a5,Rb1,Nf6,Bd3,Bd6,b4,Qe7,Qb3,axb4,axb4,Ne4,Bxe4,dxe4,Nd2,Be6,Qb2,Bd5,b5,Ra5,bxc6,bxc6,Nxd5,cxd5,Qb6,Rfa8,Rfc1,Ra2,Qc6,R8a6,Qxd5,Rxd2,Rb7,Qf6,Rc8+,Kh7,Qxe4+,g6,f4,Rd1+,Kh2,Raa1,Kh3,Rh1+,Kg4,Raf1,Rb5,h5+,Rxh5+,Rxh5,Re8,Qf5+,Qxf5,Rxf5,e4,Ra5,Rd8,Ba3,d5,Ra4,e5,g5,Kxg5,Rg1,Kf6,Ra7,g4,Rxg2,Re8,Rf2,f5,Bb2,g5,Re2', 'g6+,fxg6,fxg6+,Kh6,Rh8+,Rh7,Rxh7#', 'https://lichess.org/training/Pspwj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PSQOe', 'Rapid', 'DavidBrodin', 2035, 'NM AA8128', 2221, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,exd4,e5,d5,exf6,dxc4,Re1+,Be6,Ng5,Qd5,Nc3,Qf5,g4,Qg6,Nxe6,fxe6,Rxe6+,Kf7,fxg7,Qxe6,gxh8=Q,Rxh8,Qf3+,Kg7,Ne4,Rf8,Nxc5,Qe1+,Kg2,Rxf3,Kxf3,Ne5+,Kg2,Nxg4', 'Bh6+,Kxh6,Rxe1', 'https://lichess.org/training/PSQOe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pSqSg', 'Blitz', 'IM ToLazyToGetAName', 2373, 'Goran_Krastev', 2269, 'd4,d5,c4,Nc6,Nc3,e5,cxd5,exd4,dxc6,dxc3,Qa4,cxb2,Bxb2,bxc6,Qxc6+,Qd7,Qe4+,Qe6,Qxa8,Bb4+,Kd1,Qd7+,Kc2,Qd2+,Kb3,Ne7,Nf3,Qd8,Kxb4,O-O,Qe4,Be6,Qd4', 'Nc6+,Kc3,Nxd4', 'https://lichess.org/training/pSqSg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pSqTD', 'Rapid', 'iwyn', 2129, 'arifrw', 2280, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,O-O,O-O-O,Nc6,h3,Bd7,g4,Rc8,g5,Nh5,Be2,Ne5,Bxh5,gxh5,Qe2,Nc4,Qxh5,Nxe3,fxe3,Rxc3,bxc3,Qa5,Kd2,Rc8,Rdf1,Qxc3+,Ke2,Rf8,Rf4,Bxd4,exd4,Qxc2+,Kf3,Qd3+,Kg2,Qd2+,Kg3,Qxd4,Rhf1,Qe3+,R4f3,Qxe4,Rxf7,Qe3+,Kh2,Qe5+,Kg1', 'Qg3+,Kh1,Bc6+', 'https://lichess.org/training/pSqTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PsQU8', 'Blitz', 'Arseniy_Osokin', 1721, 'Dghvgtj', 1722, 'e4,b6,d4,Bb7,Nd2,e6,f3,c5,c3,cxd4,cxd4,Nf6,Bd3,Nc6,a3,Qc7,b4,d5,e5,Nd7,Bb2,a6,Ne2,Be7,O-O,O-O,f4,b5,Ng3,Nb6,f5,Nc4,Nxc4,bxc4,Bc2,exf5,Nxf5,Kh8,Qh5,g6,Qh6,Rg8,Rf3,Bf8', 'Qxh7+,Kxh7,Rh3+,Bh6,Rxh6#', 'https://lichess.org/training/PsQU8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PsSvs', 'Rapid', 'gennadiy1940', 1613, 'Imakeblunders4', 1640, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,a3,d6,Nc3,Bg4,h3,Bh5,Be3,Bd4,g4,Bg6,Bxd4,Nxd4,Nxd4,exd4,Ne2,c5,Qd2,Nf6,O-O-O,d5,exd5,Nxd5,Rde1,O-O,Nf4,Nxf4,Qxf4,a6,h4,b5,Ba2,Rc8,h5,Bh7,Re5,Qd6,Rhe1,c4,dxc4,bxc4,R5e4,Qxf4+,Rxf4,Rfd8,Rd1,d3,c3,Rc7,Rxc4,Re7,f4', 'd2+,Rxd2,Re1+,Rd1,Rdxd1#', 'https://lichess.org/training/PsSvs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pstUB', 'Classical', 'Patry21', 1799, 'Pimentosvysky', 2223, 'd4,Nf6,c4,e6,Nf3,c5,d5,exd5,cxd5,d6,g3,g6,Bg2,Bg7,O-O,b5,Re1,O-O,e4,Nfd7,Qc2,Re8,Bf4,Ne5,Nxe5,Bxe5,Bxe5,Rxe5,f4,Re8,e5,Bf5,Be4,Bxe4,Qxe4,Nd7,e6,Nf6,Qd3,c4,Qd4,Qb6,Qxb6,axb6,Nc3,b4,Nb5,Nxd5', 'exf7+,Kxf7,Nxd6+', 'https://lichess.org/training/pstUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pStUV', 'Rapid', 'sakaumbaTal', 1846, 'jonhibbard', 1904, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,d3,e4,dxe4,Qxd1+,Kxd1,Bg4,Be2,Nc6,Ke1,O-O-O,Be3,Nb4,Rc1,Nxa2,Ra1,Nb4,Rxa7,Nxc2+,Kf1,Nxe3+,fxe3,Kb8,Ra1,f6,Kf2,Bc5,Ra5,Bb6,Ra4,Bxf3,gxf3,Rd2', 'Rha1,c6,Ra8+,Kc7,Rxh8', 'https://lichess.org/training/pStUV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pSUEw', 'Blitz', 'VackerRomans', 2270, 'NM Chess-Network', 2611, 'c4,Nf6,Nc3,d6,g3,e5,Bg2,c6,Nf3,Be7,O-O,O-O,Rb1,a5,a3,Bf5,d3,Nbd7,b4,axb4,axb4,Qc7,b5,h6,Nd2,Be6,Qc2,Rfc8,Nb3,d5,bxc6,bxc6,Nd2,Bc5,Bb2,Bd4,e3,Ba7,Rfc1,Qd8,Qd1,Bg4,Qf1,Bf5,cxd5,cxd5,Nxd5,Rab8,Rxc8,Rxc8,e4,Be6,Nc4,Bd4,Ba3,Bxd5,exd5,Ra8,Bb2,Ra2,Bxd4,exd4,Ra1,Qa8,Rxa2,Qxa2,d6,h5,h3,Qc2,Bf3,g6,Be2,Qa2,Qd1,Kg7,Kg2,Nf8,Qd2,Qa6,Qf4,Ne6,Qe5,Qa7,Bf3,Qc5,Bd5', 'Qxd5+,Qxd5,Nxd5', 'https://lichess.org/training/pSUEw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pSUMy', 'Rapid', 'LVailant', 1667, 'Old_School_Boy', 1745, 'e4,c6,c4,d5,exd5,cxd5,cxd5,Qxd5,Nc3,Qd8,Bc4,Nc6,a4,Nf6,h3,Bf5,Nf3,e6,O-O,Be7,d4,O-O,Be3,Na5,Ba2,Bb4,Bf4,Bxc3,bxc3,Nd5,Bxd5,Qxd5,Ne5,Nc6,Nxc6,Qxc6,Qc1,Rfc8,Ra3,Bd3,Re1,Bc4,Qb2,Bd5,f3,a6,a5,Qc4,Bd6,Rc6,Bb4,Rc7,Qe2,Rd7,Qxc4,Bxc4,Re5,Rd5,Rxd5,Bxd5,Bc5,Rc8,Ra4,Re8,f4,Bc6,Rb4,g6,Kf2,Kg7,g3,Kg8,h4,Kg7,Ke3,f6,g4,Kf7,g5,f5,Kf2,Rd8,Ke3,Rd7,Kf2,Kg7,Ke3,Kf7,Kf2,Kg8,Ke3,Kf7,Kf2,Kg7,Kg3,Kg8,Kf2,Kh8,Ke3,Kg8,Kf2,Kg7,Rb2,h6,Rd2,hxg5,hxg5,Rd8,Kg3,Rh8', 'd5,exd5,Bd4+', 'https://lichess.org/training/pSUMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Psuxv', 'Classical', 'mbrunocesar', 2115, 'CM vvchessli', 2311, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,Be7,Nd2,O-O,Nf3,c6,Bg5,h6,Bf4,Bd6,Qd2,Bxf4,Qxf4,Be6,Bf5,Bxf5,Qxf5,Qd6,Rfe1,Rfe8,h3,a5,Rxe8+,Rxe8,Re1,Rxe1+,Nxe1,Qb4,Qc8+,Kh7,Qf5+,Kh8,Qc8+,Ng8,Nd3,Qc4,Ne5,Qxc2,Nxf7+,Kh7,Qe6,Nf6,g4,d4,g5,hxg5,Nxg5+,Kg6,h4,Qd1+,Kh2,Qg4,Qxg4,Nxg4+,Kg3,d3,Nf3,Kf5,Nd2,a4,Kf3,c5,Nc4', 'Ne5+,Nxe5,Kxe5,Ke3,c4', 'https://lichess.org/training/Psuxv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pSVVu', 'Classical', 'Abuejorge', 1981, 'Robertomolcas', 1869, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,Nc6,Be3,Nf6,f3,Ne5,Nc3,Bb4,Be2,a6,O-O,O-O,f4,Nc6,a3,Bxc3,bxc3,Nxe4,Nxc6,bxc6,Bd4,c5,Be5,d6,Qd3,Bb7,Qh3,dxe5,Bd3,f5,Rad1,Qf6,fxe5,Qxe5,Rde1,Qxc3,Qh4,Qd4+,Kh1,Bc6,Bxe4,Bxe4,Qe7,Qd5,Rg1,a5,Re3,Rfe8,Qg5,h6,Qh5,Qd4,Rg3,Kh8,Rd1,Qe5,Rh3,Rad8,Rg1,Rf8,Qg5,Kh7,Qh5,Rd2,Rg3,Qd5', 'Qg6+,Kh8,Qxg7#', 'https://lichess.org/training/pSVVu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PSvz0', 'Rapid', 'skirmish44', 1684, 'ssssssssss29012901', 1880, 'e3,d5,g4,e5,h4,Bd6,c3,h5,gxh5,Nf6,Be2,e4,b4,Bf5,a4,Nc6,a5,Qd7,a6,b6,Bb5,Ng4,Qa4,Nge5,Bb2,Nd3+,Kf1,Nxb2,Qb3,Be5,Qxb2,Qd6,Qb3,O-O-O,Na3,Nxb4,Ne2,Rxh5,Nd4,Bxd4,exd4,Nd3,Bxd3,exd3,Nb5,Qf4,Nxa7+,Kd7', 'Qxd5+,Qd6,Qxf7+', 'https://lichess.org/training/PSvz0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pSWKS', 'Blitz', 'FM pentlife', 2411, 'rucaji', 2462, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,a4,Nbd7,a5,a6,Nbd2,d5,c4,c6,Qc2,Re8,Rd1,e5,dxe5,Nxe5,Nxe5,Rxe5,Nf3,Bf5,Qb3,Rxe2,Qxb7,Bc2,Rd2,Rxd2,Bxd2,dxc4,Qxc6,Be4,Qxc4,Rc8,Qd4', 'Bxf3,Qxd8+,Rxd8,Bxf3,Rxd2', 'https://lichess.org/training/pSWKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PsZ3L', 'Rapid', 'AlphaNwtn', 1683, 'Troha7', 1670, 'e4,c5,Nf3,e6,c3,h6,d4,Qb6,b3,Nf6,Bd3,a6,Be3,Be7,Qd2,Qc6,e5,Nd5,c4,Nxe3,Qxe3,Qb6,O-O,O-O,Qe4,g6,d5,exd5,cxd5,d6,e6,Bf6,exf7+,Kxf7,Qxg6+,Ke7,Re1+,Kd8,Qxh6,Nd7,Nbd2,Bxa1,Rxa1,Qb4,Ng5,Qc3,Ne6+,Ke7,Qg5+,Nf6,Qg7+', 'Rf7,Qg6,Qxa1+', 'https://lichess.org/training/PsZ3L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PszCZ', 'Classical', 'RamalanCuaca81', 1811, 'boberzzz', 1855, 'e4,d5,e5,Nc6,d4,f6,f4,fxe5,fxe5,e6,Qh5+,g6,Qd1,Nge7,Nf3,Bg7,Bb5,Bd7,Nc3,a6,Ba4,b5,Bb3,b4,Na4,Na5,Nc5,Nxb3,axb3,O-O,Rxa6,Rxa6,Nxa6,Nc6,Nc5,Ne7,Bg5,h6,Bf6,Bxf6,exf6,Rxf6,O-O,Bb5,Re1,Qd6,Ne5,Nf5,Qd2,c6,Qxb4,Ne3,h3', 'Nxc2,Qd2,Nxe1', 'https://lichess.org/training/PszCZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pSZn4', 'Rapid', 'Porrio1208', 1900, 'klassak', 1765, 'd4,e6,Bf4,d5,e3,Nf6,Be2,Nc6,Nd2,Bb4,c3,Ba5,a4,a6,Bg5,O-O,h4,h6,Bf4,Ne7,g4,Ng6,g5,Nxf4,exf4,Ne4,Nxe4,dxe4,gxh6,gxh6,Bc4,f5,Qh5,Qf6,Ne2,c6,Ng3,c5,Rg1,Kh7,Kf1,cxd4,Nxe4,fxe4,Qxa5,Qxf4,Rg2,e3,Bd3+,Kh8,cxd4,e5,Qxe5+', 'Qxe5,dxe5,Bh3', 'https://lichess.org/training/pSZn4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pT1jm', 'Classical', 'maxim001454', 1767, 'wwwrid', 1736, 'e4,c5,Nf3,Nc6,Bc4,Nf6,Nc3,e6,O-O,d5,exd5,exd5,Re1+,Be7,Bb5,O-O,d3,Na5,Bg5,a6,Ba4,b5,Bb3,c4,dxc4,dxc4,Qe2,Bb4,Bxf6,Qxf6,Nd5,Qd6,Rad1,Bxe1', 'Ne7+,Qxe7,Qxe7', 'https://lichess.org/training/pT1jm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PT1wx', 'Rapid', 'R3al', 1761, 'MauricioColombia', 1641, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,Nc6,d5,Ne5,Bf4,Ng6,Bg3,e6,Bxc4,exd5,exd5,Bb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/PT1wx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pt1Xv', 'Rapid', 'Stefan_He', 1731, 'Aarav2007', 1696, 'd4,d5,Bf4,e6,Nf3,Bd6,Ne5,Nf6,e3,O-O,Bd3,Nbd7,c4,dxc4,Bxc4,Bxe5,dxe5,Ne8,Bd3,Nc5', 'Bxh7+,Kxh7,Qxd8', 'https://lichess.org/training/Pt1Xv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pt2l2', 'Blitz', 'z2win', 2373, 'NM PushingPawnsNYC', 2352, 'e4,c5,Nf3,e6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,Nc6,a3,d6,Bd3,Be7,O-O,dxe5,dxe5,h6,Qe2,Bg5,Nxg5,hxg5,Qe4,Rh4,Qe2,Nd4,Qd1,Qb6,Nc3,Nb3,Bb5+,Kf8,Qxb3,Nf4,Be3,Qc7,Bxf4,Rxf4,Rfe1,a6,Bf1,b5,Rac1,Qb6,Re3,Bb7,Ne2,Rh4,Qc3,Kg8,Qc7,Qxc7,Rxc7,Bd5,g3,Rc4,Nc3', 'Rxc7,Nxd5,exd5', 'https://lichess.org/training/pt2l2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PT5gk', 'Rapid', 'phanthomass', 1515, 'ElvanBLC', 1516, 'e4,g6,d4,Bg7,Nf3,b6,Nc3,Bb7,Bd3,e6,O-O,Ne7,Bg5,O-O,Re1,Qe8,d5,exd5,exd5,f6,Bh4,Qf7,b3,Ba6,Bxa6,Nxa6,Qe2,Nb4,a3,Nbxd5,Nxd5,Nxd5,Bg3,d6,c4,Nc3,Qd2,f5,Ng5,Qf6,Ne6,Ne4,Rxe4,fxe4,Nxf8,Qxf8,Re1,Re8,Qd5+,Kh8,Rxe4,Rxe4,Qxe4,Qf6,h3,Qa1+,Kh2,Be5,Bxe5+,Qxe5+,Qxe5+,dxe5,Kg3,Kg7,Kf3,Kf6,Ke4,c6,b4,a6,a4,h6,g4,g5,f3,Ke6,a5,b5,cxb5,cxb5,Kd3', 'Kd5,Ke3,Kc4,Ke4,Kxb4', 'https://lichess.org/training/PT5gk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PT67I', 'Rapid', 'professorgowthy', 1693, 'raoh38', 1623, 'e4,d5,Nf3,dxe4,Ng5,e5,Nxe4,Nf6,Nbc3,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/PT67I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pT8of', 'Classical', 'tpsinnem', 1708, 'titie123', 1732, 'e4,c5,Nf3,d6,c3,Nf6,e5,dxe5,Nxe5,Nbd7,Bb5,a6,Bxd7+,Nxd7,Qe2,Nxe5,Qxe5,e6,d4,cxd4,cxd4,Bb4+,Nc3,O-O,O-O,b5,Rd1,Bb7,Qg3,Bd6,Bf4,Be7,d5,exd5,Ne4,Bh4,Qg4,Bc8,Qh5,g6,Qe5,Re8,Rxd5,Rxe5,Rxd8+,Bxd8,Bxe5,Bf5,Nf6+,Bxf6,Bxf6,Re8,Rd1,Be6,a3,h5,h3,Kh7,Rd6,a5,a4,bxa4,Ra6,Bb3,Rxa5,Re1+,Kh2,Re2,Kg3,h4+,Bxh4,Rxb2,Be7,Kg7,f4,Bc2,Kh4,Ra2,Kg5,Bb3,Bf6+,Kh7,Ra8,Rxg2+,Kh4,g5+,fxg5,Kg6,Rg8+,Kf5,Kh5,Rh2,h4,Bd1+,Kh6,Rxh4+,Kg7,Rh3,Kxf7', 'Bb3+,Kf8,Bxg8', 'https://lichess.org/training/pT8of');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pt9Ix', 'Blitz', 'gazder', 1693, 'zu-1964', 1971, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,h3,Nf6,Re1,Be7,c3,O-O,d4,exd4,cxd4,a6,Bc4,Rb8,Bb3,h6,Nc3,Re8,e5,dxe5,dxe5,Nh7,Ne2,Bf5,Ng3,Qxd1,Rxd1,Be6,Bxe6,fxe6,Rd7,Rbc8,Be3,Nf8,Rd2,Ng6,Re1,Ncxe5,Nxe5,Nxe5,Bxh6,Nc4,Rc2,b5,Bf4,Bf6,b3,Nd6,Rec1,e5,Be3,Bd8,Ne2,Ra8,f4,Nf7,fxe5,Rxe5,Bf4,Re4,Kf2,g5,Bxc7,Bxc7,Rxc7,Rae8,Ng3,Re3,Rc8,Nd6,Rxe8+,Rxe8,Ne2,Kf7,Rc6,Re6,Nd4,Ne4+,Kf3,Nd2+,Kg4,Re4+,Kxg5,Rxd4,Rxa6,Rd5+,Kf4,Ke7,g4,Nf1,g5,Kf7,h4,Rd4+,Kf5,Rxh4,g6+,Kg7,Kg5,Rh2,Ra7+,Kg8,Ra8+,Kg7,Ra7+,Kf8,g7+,Kg8,Kg6,Rg2+,Kf6,Ne3', 'Ra8+,Kh7,Rh8#', 'https://lichess.org/training/pt9Ix');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PTaLL', 'Blitz', 'IM LiVaEv', 2460, 'Sekiro-A', 2444, 'd4,g6,h4,h5,e4,d6,Nc3,a6,Bg5,b5,a3,Bb7,Nf3,Nd7,Be2,c5,d5,Ngf6,O-O,Bg7,Qd2,Nb6,Rae1,O-O,Bh6,Ng4,Bxg7,Kxg7,Ng5,Nh6,b3,Bc8,Bf3,Nd7,g3,Ne5,Bg2,f6,Ne6+,Bxe6,dxe6,Rc8,Nd5,c4,f4,Neg4,Bh3,Re8,Qd4,cxb3,cxb3,Qa5,Rc1,Qxa3,Rxc8,Rxc8,Nxe7,Rc2,e5,fxe5,fxe5,dxe5,Qa7,Qc5+,Qxc5,Rxc5,Bxg4,hxg4,Nd5,Ng8,Rf7+,Kh6,Ne3,Rc6,Nxg4+,Kh5,Nf6+,Nxf6,Rxf6,e4,Kf2,Kg4,e7', 'Rxf6+,Ke3,Re6', 'https://lichess.org/training/PTaLL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PTawY', 'Rapid', 'dingodogdingo', 1792, 'Shuchalin73', 1780, 'd4,d5,Nf3,Nf6,Bg5,e6,e3,b6,c4,Bb7,Nbd2,Nbd7,Ne5,Be7,Ndf3,Nxe5,dxe5,Ne4,Bxe7,Qxe7,Bd3,Nc5,O-O,O-O,Bc2,dxc4,b4,cxb3,axb3,Rad8,Qe2,a5,Rfd1,Ba6,Qe1,Rxd1,Rxd1,f6,Nd4,fxe5,Nc6,Qh4,Nxe5,Ne4,Bxe4,Qxe4,Nf3,Bb7,Rd4,Qg6,h3,Bxf3,Rg4,Bxg4,hxg4,Qxg4,Qc3,Qd1+,Kh2,Rxf2,Qxc7,Qh5+,Kg1,Qe2,Qc8+,Kf7,Qd7+,Kf6,Qd4+,Kf7,Qd7+,Kf6,Qd4+,e5,Qd6+,Kg5,Qxe5+,Rf5,Qxg7+,Kh4,Qxh7+,Rh5,Qe4+,Qg4,Qe7+,Qg5,Qe4+,Qg4,Qe7+,Rg5,Qh7+,Kg3,Qc7+,Kh4', 'Qh2+,Qh3,Qxh3#', 'https://lichess.org/training/PTawY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pTBoo', 'Classical', 'VLASTNIKCHUDA', 1805, 'hareshSomjiyani', 1774, 'e4,e5,Bc4,Bc5,a4,Nc6,c3,a5,d3,h6,Ne2,Nce7,O-O,d5,exd5,Nxd5,Kh1,Bg4,Qe1,Ngf6,h3,Bxh3,gxh3,Qd7,Ng1,O-O-O,Qxe5,Qc6,f3,Rhe8,Qg3,Bxg1,Qxg1,g5,Bb5,Qe6,Bxe8', 'Qxh3+,Qh2,Qxf1+', 'https://lichess.org/training/pTBoo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PTBSn', 'Rapid', 'ivanov32', 1657, 'JustCaroKann', 1663, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bd3,cxd4,cxd4,Nxd4,Be3,Nc6,Nf3,Qc7,O-O,Nge7,Nc3,Ng6,Rc1,Ngxe5,Be2,Ng4,Bd2,Nd4,g3,Nxe2+,Qxe2,Be7,Nxd5,Qd6,Nxe7,Kxe7,Bf4,Qb6,Rfd1,Bd7,h3,Bb5,Qd2,Rhd8,Qb4+,Ke8,Bc7,Rxd1+,Rxd1,Qxc7,Qxg4,Kf8', 'Qb4+,Kg8,Qxb5', 'https://lichess.org/training/PTBSn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pTBWd', 'Rapid', 'naveenkumarthota', 1842, 'morteza7531', 1835, 'e4,d6,d4,Nf6,Bd3,g6,f4,Bg7,c3,O-O,Nf3,c5,O-O,Bg4,e5,Nd5,Be4,Nc7,Bxb7,dxe5,Bxa8,Nxa8,fxe5,cxd4,cxd4,Nc6,Be3,Nb6,Nc3,Nc4,Qc1,Nb4,Rd1,Nxe3,Qxe3,Nc2,Qf4,Bxf3,Qxf3,Nxa1,Rxa1,Qxd4+,Kh1,Bxe5,Rd1,Qb4,Nd5,Qb7', 'Nf6+,exf6,Qxb7', 'https://lichess.org/training/pTBWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ptd2s', 'Blitz', 'michaeljoshua', 2399, 'GM Nurlan_Ibrayev', 2488, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,f3,Be6,Qd2,Nbd7,O-O-O,O-O,g4,b5,g5,b4,Ne2,Ne8,f4,a5,f5,a4,Nbd4,exd4,Nxd4,b3,Kb1,bxc2+,Nxc2,Nc7,fxe6,Nxe6,h4,Ndc5,Bg2,Rb8,Nd4,Qb6,Nxe6,fxe6,Bxc5,Qxc5,Rhf1,a3,b3,Qe5,Bh3,Qxe4+,Qc2,Rxf1,Qxe4,Rxd1+,Kc2,Ra1,Qxe6+,Kh8,Qxe7,Rxa2+,Kb1,Rb2+,Ka1,R2xb3,Be6,R3b4,Qxd6,R4b6,Qe7,Rc6,Ka2,Rc3,h5', 'Rb2+,Ka1,Rc1#', 'https://lichess.org/training/Ptd2s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pTECN', 'Blitz', 'nelvibu', 1888, 'eikoniano', 1876, 'e4,e6,c3,d5,exd5,exd5,d4,Nf6,Nf3,Bd6,Bd3,O-O,O-O,Bg4,Nbd2,Re8,Qc2,c5,dxc5,Bxc5,Nb3,Bb6,Bg5,Nbd7,Nbd4,Nf8,Bb5,N8d7,Bxf6,gxf6,h3,Bxf3,Nxf3,a6,Bd3,Nf8,Qd2,Qd6,Qh6,Ng6,Nh4,Qg3,Nf5,Ne5,Qxf6', 'Nf3+,Kh1,Qh2#', 'https://lichess.org/training/pTECN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ptepp', 'Rapid', 'zgreds', 1684, 'JMSGreen777', 1730, 'e4,e5,Nf3,d6,Nc3,Nf6,Bc4,Be6,d3,h6,O-O,Be7,b3,c6,d4,d5,Be2,exd4,Qxd4,Nbd7,exd5,Nxd5,Nxd5,Bxd5,Qxg7', 'Bf6,Qg3,Bxa1', 'https://lichess.org/training/Ptepp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pTha0', 'Blitz', 'lVoG', 1610, 'tolik04', 1599, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,O-O,Nxd5,d3,h6,Nf3,Nxf3+,Qxf3,Be6,Nc3,Nxc3,Bxe6,fxe6,bxc3,Qd5,Qh5+,Ke7,Re1,g5,Bxg5+,Kd7,Bf6,Rh7,Rxe5,Qc6,Rae1,Bg7,Bxg7,Rxg7,g3,Rag8,c4,Rg6,f4', 'Rxg3+,hxg3,Rxg3+,Kf1,Qg2#', 'https://lichess.org/training/pTha0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ptiHB', 'Blitz', 'thrillhouse742', 1526, 'petrokamin', 1523, 'd4,Nf6,c4,e6,Nc3,c6,Nf3,d5,cxd5,cxd5,Bf4,a6,e3,b6,Bd3,Bb7,O-O,Nbd7,Qc2,Be7,Ng5,Ne4,Ngxe4,dxe4,Bxe4,Bxe4,Nxe4,f5,Nd6+,Bxd6,Bxd6,Nf6,Qc6+,Nd7,Rac1,Kf7,Qf3,Re8,Qh5+,Kg8,Rc7,Nf6,Qf3,Qxd6,Rfc1,Ne4,Qh5,Nf6', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/ptiHB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PTiVR', 'Rapid', 'PetrakeevKirill', 2011, 'Johannus', 1992, 'e4,Nf6,e5,Nd5,c4,Nb6,a4,a5,Ra3,e6,Rg3,g6,b3,Bg7,Bb2,Nc6,d4,d6,Nf3,dxe5,dxe5,Qxd1+,Kxd1,Nd7,h4,Ncxe5,Nxe5,Nxe5,h5,O-O,hxg6,hxg6,Rgh3,Ng4', 'Rh8+,Bxh8,Rxh8#', 'https://lichess.org/training/PTiVR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pTKh8', 'Blitz', 'WFM chezzgirl04', 2009, 'Pramudito', 1905, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Ne5,Nc6,Bb5,Bd7,Bxc6,Bxc6,g4,e6,Nd2,Bd6,Ndf3,Nd7,Nxd7,Qxd7,Be3,O-O-O,Qd3,Kb8,a4,f5,gxf5,exf5,Ne5,Bxe5,dxe5,d4,Bf4,Ka8,Rg1,h6,h4,Be4,Qb5,Qxb5,axb5,Bxc2,Kd2,Bb3,e6,Bxe6,Bc7,Rc8,Rxa7+,Kxa7', 'Ra1+,Ba2,Rxa2#', 'https://lichess.org/training/pTKh8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ptkN3', 'Blitz', 'wilson21', 1680, 'Dholurz', 1823, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bd3,Ngf6,Nxf6+,Nxf6,Nf3,c5,dxc5,Bxc5,O-O,O-O,Qe2,Bd7,Be3,Bxe3,Qxe3,Bc6,Rad1,Qc7,Rfe1,Ng4,Qg5,Bxf3,gxf3', 'Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/ptkN3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ptMaS', 'Rapid', 'nasralnasser', 1800, 'Braveheart_Chess', 1662, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,a6,O-O,Nf6,d3,d6,Bd2,Bg4,Nd5,Nd4,Bg5,Nxf3+,gxf3,Bh3,Re1,c6,Nxf6+,gxf6,Bh4,Rg8+,Bg3,Qb6,Qd2,h5,Kh1,O-O-O,Bxf7,Rg5,Bxh5,Rxh5,d4,Bxd4,c3,Bxf2,Bxf2,Qb5,Rg1,Rdh8,Rad1,Bd7,Bg3,f5,exf5,Bxf5,b3,e4,c4,Qc5,Qxd6,Qxd6,Rxd6,exf3,Re1,f2,Bxf2,Rxh2+,Kg1,Rh1+,Kg2,R1h2+,Kg3', 'R8h3+,Kf4,Rxf2+', 'https://lichess.org/training/ptMaS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PTmyI', 'Blitz', 'gmftorres1', 2542, 'huha1', 2533, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,g4,h6,h4,Be6,Bf3,g6,Be3,Nbd7,Qd2,h5,g5,Ng4,O-O-O,Nxe3,Qxe3,Rc8,Nd5,O-O,Kb1,b5,Rdg1,Bxd5,exd5,a5,Bxh5,a4,Nd2,Nb6,Be2,Nxd5,Qe4,Nf4,h5,Bxg5,hxg6,fxg6,Bxb5,a3,Nf3,Rf5,Bc4+,Kg7,Bd3,d5,Qxf5,gxf5,Rxg5+,Qxg5,Nxg5,Kf6,Nh3,Rh8,Bf1,axb2,a4,d4,a5,e4,a6,e3,fxe3,dxe3,a7,e2,Bxe2,Nxe2,Kxb2,Ra8,Ra1,f4,Ra3,Kf5,Nf2,Ke5,Nd3+,Ke4,Ra6,Nd4,Ra4,f3,Nf2+,Ke3,Nd1+,Ke4,Nc3+,Ke3,Ra6,Ne2,Nd1+,Kd2,Rd6+,Ke1,Ne3,f2,Rf6,f1=Q', 'Rxf1+,Kd2,Nc4#', 'https://lichess.org/training/PTmyI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pTnVt', 'Rapid', 'Tshepzen', 1714, 'ostdorfer', 1759, 'e4,g6,Nc3,Bg7,Be2,Nc6,f4,d6,Nf3,e5,d3,f5,O-O,Be6,fxe5,dxe5,exf5,Bxf5,Bg5,Bf6,Bxf6,Nxf6,Nh4', 'Qd4+,Kh1,Qxh4', 'https://lichess.org/training/pTnVt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PTO47', 'Blitz', 'aliceaquino', 1504, 'arqmacat', 1509, 'e4,e5,Nf3,Nc6,Bb5,Nge7,Nc3,a6,Bxc6,Nxc6,O-O,d6,d3,Bg4,h3,Bh5,g4,Bg6,Ng5,f6,Ne6,Qd7,Nxf8,Rxf8,g5,O-O-O,Kh2,fxg5,Bxg5,Rde8,Qg4,Re6,f4,exf4,Rxf4,Rxf4,Bxf4,h5,Qg5,Nd4,Rf1,Nxc2,Bd2,Nd4,Rf8+,Be8,Qxh5,b5,Qd5,Nc6,a4,Qe7,Qxc6,Qxf8,Qa8+,Kd7,axb5,axb5,Nd5,Qf2+,Kh1,Qxd2,Qb7,Qc1+,Kh2,Rg6,Qxb5+,c6', 'Qb7+,Ke6,Qe7#', 'https://lichess.org/training/PTO47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pToa5', 'Classical', 'johngarzonb85', 1795, 'drxiurys', 1801, 'd4,d5,Nf3,Bf5,e3,e6,Ne5,Bd6,Nd2,Nd7,Ndf3,Be4,b3,Nxe5,Nxe5,Qg5,Qg4,Bb4+,Bd2,Bxd2+,Kxd2,Qf6,Bb5+,Ke7,f3,Bf5,Qf4,c6,Nxc6+', 'bxc6,Qc7+,Kf8', 'https://lichess.org/training/pToa5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PtOfP', 'Rapid', 'creeperland', 1954, 'zombiedrake', 2087, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,c3,Nc6,d4,cxd4,cxd4,Rc8,Nc3,a6,O-O,g6,Be3,Bg7,a3,h5,Qe2,h4,h3,f6,Nd5,Qd8,b4,e6,Nc3,Nxb4,axb4,Rxc3,b5,Qb6,bxa6,Rxe3,fxe3,bxa6,Rxa6,Qb7,Rfa1,Qxe4,Qb5+,Kf7,Ra7+,Ne7,Kf2,Re8,Qd7,Bh6,R1a3,Qc2+,Kg1,Qc1+,Kh2,Bxe3,Qxd6', 'Bf4+,Qxf4,Qxf4+', 'https://lichess.org/training/PtOfP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ptoNy', 'Blitz', 'FM FromCMtoGM', 2300, 'jimmymatoma', 2309, 'e4,c5,Nf3,Nc6,Bb5,Nd4,Nxd4,cxd4,O-O,a6,Ba4,e6,c3,b5,Bc2,Bc5,d3,Bb7,a4,dxc3,Nxc3,Nf6,d4,Bb6,Bg5,h6,Bh4,g5,Bg3,h5,axb5,axb5,Rxa8,Qxa8,Be5,Bd8,Nxb5,Rh6,Nd6+,Kf8,Re1,Bc6,b4,Ng4,b5,Nxe5,dxe5,Bb7,Bb3,Bb6,Qf3,Rh7,Qf6,Bd8,Qf3,g4,Qf4,Rg7,Rc1,Kg8,Qh6', 'Bg5,Qxh5,Bxc1', 'https://lichess.org/training/ptoNy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PTp00', 'Rapid', 'Theodoros7', 1821, 'MertesAlexanderGM', 1884, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5c3,g6,Na3,Bg7,Nc2,Nge7,Ne3,Nd4,Nc2,Nec6,Nxd4,Nxd4,Be3,O-O,Bxd4,exd4,Nd5,Qa5+,Qd2,Qxd2+,Kxd2,f5,Ne7+,Kh8,exf5,Bxf5,Nxf5,Rxf5,f3,Re8,Bd3,Rfe5,Rhe1', 'Bh6+,Kc2,Rxe1', 'https://lichess.org/training/PTp00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PTPhy', 'Rapid', 'VitLiss1986', 1602, 'J_H_Balckburn', 1633, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bb5,Nf6,h3,O-O,O-O,Nd4,Nxd4,Bxd4,d3,d6,Ne2,Bb6,c3,a6,Ba4,Ba7,Bb3,b5,Bg5,a5,a3,a4,Ba2,h6,Bh4,Kh8,d4,g5,Bg3,Nxe4,dxe5,Nxg3,Nxg3,Bc5,exd6,Bxd6,Qd5,Be6,Qxb5,Rb8,Qxa4,Rxb2,Bxe6,fxe6,Qd4+,Kg8,c4,Rb3,a4,Qe7,Rfe1,Bc5,Qd1,Rxg3,Kh2,Bxf2,Rf1,Re3,Qd2,Bg3+,Kg1,Rxf1+,Rxf1,Qd6,Qxe3,Bf4,Qa7,Qd3,Qb8+,Kf7,Qb5,Kg6,Qe8+,Kg7,Qxe6,Bh2+,Kf2,Qd2+,Qe2', 'Bg3+,Kxg3,Qxe2', 'https://lichess.org/training/PTPhy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PTqdb', 'Rapid', 'Laki2006', 1797, 'alforus', 1879, 'g3,c6,Bg2,d5,b3,Bf5,Bb2,e6,d3,Nd7,Nd2,Ngf6,Ngf3,h6,c4,a6,cxd5,cxd5,O-O,Bd6,Nd4,Bh7,e4,Be5,exd5,Nxd5,f4,Bxd4+,Bxd4,O-O,Qg4,N7f6,Ne4,Bf5,Nxf6+', 'Nxf6,Qf3,Qxd4+', 'https://lichess.org/training/PTqdb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PtQdT', 'Rapid', 'goerch', 1671, 'Fad3', 1695, 'd4,d5,c4,c6,Nf3,dxc4,e3,Bg4,Bxc4,Nf6,Nc3,e6,O-O,Bb4,Bd2,Bxc3,Bxc3,O-O,Be2,Bxf3,Bxf3,a5,Qb3,b5,Rac1,a4,Qc2,Nd5,a3,Nxc3,Qxc3,Ra6,Rfd1,f5,b3,f4,bxa4,Rxa4,Bxc6,Rc4,Qb3,Rxc6', 'Rxc6,Nxc6,Qxe6+,Rf7,Qxc6,fxe3,fxe3', 'https://lichess.org/training/PtQdT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ptqzq', 'Rapid', 'janisc', 1731, 'borgs', 1708, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Nc6,Bf4,e5,Nxc6,bxc6,Bxe5,d6,Bg3,Be6,Be2,Nf6,e5,dxe5,Bxe5,Be7,Qxd8+,Bxd8,O-O,O-O,h3,a5,a3,Nd5,Nxd5,cxd5,Rad1,Be7,Bc3,Rfd8,Be5,Rac8,c3,f6,Bd4,Bf5,Bb6,Rd7,Bxa5,Bd6,Rfe1,Be5,Kf1,d4,Bb5,Rd6,Bb4,Rb6,a4,dxc3,bxc3,Bxc3,Bxc3,Rxc3,Rd8+,Kf7,Rd5,Kg6,a5', 'Rxb5,Rxb5,Bd3+,Kg1,Bxb5', 'https://lichess.org/training/ptqzq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ptrdD', 'Rapid', 'sree63', 1794, 'Gisman', 1757, 'e4,e5,Nf3,d6,Bc4,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,e5,c5,Qc3,Ne4,Bxe7,Qxe7,Qf3,Ng5,Qh5,Qxe5+,Kf1,d5,Bb5+,Bd7,Bxd7+,Kxd7,Nc3,Rae8,Rd1,d4,Qg4+,Kc6,f4,Qf6,Kf2,dxc3', 'Qd7+,Kb6,Rd6+,Qxd6,Qxd6+', 'https://lichess.org/training/ptrdD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pTroX', 'Blitz', 'Zocker', 2362, 'Kilencven', 2289, 'd4,d5,c4,Nc6,cxd5,Qxd5,Nf3,e5,Nc3,Bb4,Be3,Bxc3+,bxc3,e4,Nd2,Nf6,h3,Qa5,Qc2,Bf5,g4,Bg6,Bg2,O-O,Nb3,Qa3,c4,Qb4+,Kf1,Rad8,Rb1,Qa4,d5,Ne5,Rc1,b6,Nd4,Qxc2,Rxc2,Ned7,Nc6,Ra8,Ke1,Rfe8,Kd2,Ne5,Nxe5,Rxe5,Rd1,Ree8,Rc3,Nd7,Bf4,Ne5,Bxe5,Rxe5,Ke3,h5,Kd4,Rae8,e3,f5,g5,R5e7,h4', 'c5+,dxc6,Rd8#', 'https://lichess.org/training/pTroX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pTSIw', 'Bullet', 'ffenixx', 2356, 'AngelUCV', 2355, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,d6,h3,Nf6,Nc3,h6,O-O,O-O,Re1,Re8,Bb3,Bf8,d5,Na5,Qd3,Nxb3,axb3,Nh7,Ne2,f5,exf5,Be7,g4,Rf8,Ng3,Ng5,Nxg5,Bxg5,Rf1,Bxc1,Raxc1,Qh4,Kg2,Bd7,f4,Rae8,fxe5,Rxe5,Rce1,Rxd5,Qxd5+,Kh8,f6,Bc6,fxg7+,Kxg7,Qxc6,bxc6,Nf5+,Rxf5,gxf5,Qg5+,Kh2,Kf6,Rg1,Qf4+,Kh1,Qh4,Kh2,Qf4+,Kg2,Qd2+,Kg3,Kxf5,Ref1+,Kg5,Rf2,Qe3+', 'Kh2+,Kh4,Rg4+,Kh5,Rf5+', 'https://lichess.org/training/pTSIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PtsoA', 'Rapid', 'allround_premium', 1712, 'iftolen', 1649, 'd4,d5,c4,e6,Nf3,Bd6,Nc3,c6,e3,Nf6,Bd3,O-O,O-O,Nbd7,c5,Bc7,e4,dxe4,Nxe4,Nd5,Nc3,h6,Nxd5,exd5,Re1,Nf6,Be3,Bg4,Be2,Re8,h3,Bf5,Bd3,Be4,Bxe4,Nxe4,Nd2,Qf6,Nxe4,Rxe4,Qd2,Rae8,Re2,Rxd4', 'Bxd4,Rxe2,Qxe2', 'https://lichess.org/training/PtsoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PTTl1', 'Classical', 'thegoodone', 1746, 'Dinobryon', 1726, 'Nf3,d5,c3,Nf6,d3,Bf5,h3,c5,Qc2,c4,g4,Bg6,Qa4+,Nc6,d4,e6,Ne5,Qc7,Nxg6,hxg6,Bg2,Nxg4', 'hxg4,Rxh1+,Bxh1,Qh2,Bf3', 'https://lichess.org/training/PTTl1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PtU6g', 'Rapid', 'clement04120', 1637, 'imuzbek_blowme', 1672, 'd4,e5,dxe5,Qh4,Nf3,Qxf2+,Kxf2,Bb4,Bd2,Bc5+,Be3,Bxe3+,Kxe3,f6,exf6,Nxf6,Kf2,d6,e3,Nc6,Bc4,Bd7,Rf1,O-O-O,Kg1,Rhe8,a4,Ng4,Re1,Nxe3,Rxe3,Rxe3,Nc3,h6,Ra3,Kb8,Nd5,Rxa3,bxa3,g5,Qb1,g4,Nh4,Na5,Bb5,Nc6,Ba6,Bc8,Bb5,Ne5,Nf5,Bxf5,Ba6,b6,a5,Be6,Ne7,Re8,axb6,axb6,Qb5,Rxe7,a4', 'Bc4,Qb4,Bxa6', 'https://lichess.org/training/PtU6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PtuhE', 'Rapid', 'bebaslah', 1794, 'rasitc1297', 1778, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,Be2,Nd7,Ng5,Bxe2,Qxe2,h6,Nxf7,Kxf7,Qh5+,Ke7,O-O,Qe8,Qh4+,Kf7,Nc3,Be7,Qf4+,Kg6,h4,Qf7', 'h5+,Kh7,Qxf7', 'https://lichess.org/training/PtuhE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ptUNj', 'Blitz', 'FM classyplays', 2169, 'andjica', 1923, 'd4,d5,Nf3,Nf6,c4,e6,g3,Be7,Bg2,O-O,O-O,b6,Qc2,Bb7,Ne5,Nbd7,cxd5,exd5,Nxd7,Qxd7,Bf4,c5,Rd1,Rac8,Qb3,c4,Qf3,Ne4,Nc3,Rfe8,Rac1,Bf6,g4,g6,Be3,Bg7,h3,b5,Nxe4,dxe4,Qg3,Bd5,a3,Qe6,h4,a5,h5,b4,axb4,axb4,Bh3,Qa6,Ra1,Qb5,g5,c3,Bxc8,Rxc8,bxc3,bxc3,hxg6,hxg6,Rab1', 'c2,Rxb5,cxd1=Q+', 'https://lichess.org/training/ptUNj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pTV8S', 'Rapid', 'MahmoudH', 1749, 'bumskutty', 1831, 'd4,b6,c4,Bb7,Nf3,e6,b3,h6,Bb2,Nf6,Nc3,Nc6,e4,Bb4,d5,Ne7,Bd3,Ng6,O-O,Nf4,Ne2,Nxd3,Qxd3,g5,Nxg5,hxg5,Qf3,Be7,Rad1,g4,Qd3,Rg8,Ng3,d6,e5,dxe5,Bxe5,exd5,Bxf6,Bxf6,Rfe1+,Kf8,cxd5,Qd6,Qf5,Bc8,Qh5,Rg5', 'Qh6+,Bg7,Qxg5', 'https://lichess.org/training/pTV8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PtVeE', 'Rapid', 'CriticalV', 1690, 'Lionel77', 1668, 'e4,e5,Nc3,Qe7,Nd5,Qd6,d3,c6,Nc3,Qb4,a3,Qb6,Be3,Bc5,Qe2,Bxe3,Qxe3,Qxb2,Be2,Qxa1+,Bd1,Qxc3+,Ke2,Nf6,Nf3,d6,h3,O-O,g4,Bxg4,hxg4,Nxg4,Qg5,Nf6,Rg1,g6,Qh6,Nh5,Ng5,Nf6,Rh1,Nbd7,Nxh7,Ng4', 'Nf6+,Ndxf6,Qh8#', 'https://lichess.org/training/PtVeE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PTvP5', 'Rapid', 'olegplus', 2041, 'LeoIlan', 1909, 'e4,e5,f4,exf4,Nf3,f6,Bc4,c6,d4,g5,Nxg5,d5,Qh5+,Kd7,Nf7,Qe7,Nxh8,dxc4,Nc3,Bg7,Nf7,Kc7,Bxf4+,Kb6,O-O,Bg4,Qxg4,Qxf7,d5,Nd7,dxc6,bxc6,e5,f5,Be3+,Kb7,Rxf5,Qe6,Raf1,Bxe5,Qe4,Re8,Na4', 'Bxh2+,Kxh2,Qxe4,Nc5+,Nxc5', 'https://lichess.org/training/PTvP5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ptwJK', 'Rapid', 'bustun', 1921, 'Spiralka', 1989, 'e4,e6,d4,d5,exd5,exd5,c3,Nf6,Nf3,Bg4,Be2,Be7,Bg5,O-O,h3,Bh5,O-O,h6,Bh4,Bg6,Re1,c6,Nbd2,Nbd7,Ne5,Bd6,Nxg6,fxg6,Bf3,g5,Bg3,Bxg3,fxg3,Qc7,Kh2,Rae8,Nf1,Rxe1,Qxe1,Re8,Qf2,Ne4,Qe1,Ndf6,Ne3,Qd7,Ng4,Qc7,Nxf6+,gxf6,Rc1,Re7,Rc2,Kg7,Re2,f5,a3,Kg6,b3,h5,b4,g4,hxg4,hxg4,Bxe4,fxe4,Kg1,Rf7,Rf2,Qxg3', 'Rf6+,Kxf6,Qxg3', 'https://lichess.org/training/ptwJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ptz1Q', 'Rapid', 'gulivr', 1783, 'Berlin15', 1641, 'e4,c6,d4,d5,e5,Bf5,Be3,f6,exf6,Nxf6,Bd3,Bxd3,cxd3,Nbd7,Nf3,Qb6,b3,Ng4,O-O,Nxe3,fxe3,e5,Ng5,exd4,Qf3,dxe3', 'Qf7+,Kd8,Ne6+,Kc8,Qe8+,Qd8,Qxd8#', 'https://lichess.org/training/ptz1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PU1Ii', 'Blitz', 'dummyjummy', 1685, 'Linkychess3', 1783, 'e4,c5,c3,d6,Nf3,g6,d4,cxd4,Bc4,Nf6,Ng5,e6,O-O,Bg7,cxd4,Nbd7,d5,exd5,Bxd5,O-O,Bb3,Re8,Bxf7+,Kh8,Bb3,Nxe4,Nf7+,Kg8,Nxd8+,Kh8,Nf7+,Kg8,Nh6+,Kf8,Qf3+,Ndf6,Ng4,Bxg4,Qf4,g5,Qe3,Nc5,Qxg5,Nce4,Qe3,Nc5,Qd2,Nfe4,Qd5,Be6,Qh5,Bf7,Qxh7,d5,f3,Bd4+,Kh1,Nf2+,Rxf2', 'Re1+,Rf1,Rxf1#', 'https://lichess.org/training/PU1Ii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PU35H', 'Classical', 'rezgar10', 1827, 'untaltal', 1906, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Nb3,d6,Bf4,Nf6,f3,Nc6,Qd2,Be7,O-O-O,e5,Bg5,Be6,Bxf6,gxf6,Nd5,Bxd5,exd5,Na7,Qh6,Qd8,Qg7,Rf8,Qxh7,Rc8,h4,Nb5,Bxb5+,axb5,Qd3,Rc4,h5,Qd7,h6,Rh8,h7,f5,Rh5,Kd8,Rdh1,Bf6,Qxf5,Qxf5,Rxf5,Ke7,Na5,Ra4,Nxb7,Rxa2,Kb1', 'Rha8,c3,Ra1+,Kc2,Rxh1', 'https://lichess.org/training/PU35H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pu3ft', 'Rapid', 'Jovic16', 1718, 'ronitmn', 1660, 'e4,e5,d4,exd4,Qxd4,Nc6,Qa4,Bc5,Nf3,Nf6,a3,O-O,Bc4,a6,O-O,d6,Bg5,Bg4,Be2,Be6,c3,b5,Qc2,h6,Bh4,g5,Bg3,Nh5,b4,Bb6,Nd4,Nxd4,cxd4,Nf4,Bxf4,gxf4,d5,Bd7,Nd2,Rc8,Rac1,c5,bxc5,Rxc5,Qb2,Qe7,Nb3,Rcc8,Kh1,Qxe4,Bf3,Qg6,Qd2,Qg5,Rc2,Bf5,Rxc8,Rxc8,Nd4,Bxd4,Qxd4,Rc4,Qb6,Be4,Bxe4,Rxe4,Qxa6,f3,Rg1', 'fxg2+,Rxg2,Re1+,Rg1,Qxg1#', 'https://lichess.org/training/pu3ft');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pu46H', 'Blitz', 'Valentin844', 1630, 'SuperSaiyanGreen', 1696, 'c4,c5,Nc3,g6,g3,Bg7,Bg2,Nf6,e3,O-O,Nge2,Nc6,O-O,Qc7,d4,cxd4,exd4,b6,d5,Ne5,b3,d6,Bf4,Bb7,Nb5,Qc5,Be3,a6,Bxc5,bxc5,Nbc3,a5,f4,Neg4,Nb5,Ne3,Qd2,Nxf1,Rxf1,a4,Nc7,Ra7,Nb5,Raa8,f5,Ba6,Nc7,Ra7,Nxa6,Rxa6,fxg6,fxg6,Nf4,axb3,axb3,Rfa8,Ne6,Ra2,Qe3,Rb2,Rf2,Ng4,Qg5,Nxf2,Qxe7', 'Ra1+,Bf1,Nh3+,Kh1,Rxf1#', 'https://lichess.org/training/Pu46H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pu6pT', 'Blitz', 'pepin64', 1596, 'gupnos', 1576, 'e4,e5,Nf3,Nf6,Bc4,Nc6,O-O,Bc5,Nxe5,Nxe5,d4,Nxc4,dxc5,O-O,Re1,Re8,b3,Ne5,Bg5,d6,f4,Bg4,Qd2,dxc5,fxe5,Rxe5,Qf4,Qe7', 'Bxf6,Qxf6,Qxg4,Rg5,e5', 'https://lichess.org/training/Pu6pT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pu9fK', 'Rapid', 'moh1396', 2126, 'mBehrooz', 2076, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,h6,O-O,d6,a4,a5,Bb3,O-O,Nbd2,Ne7,Nh4,Bg4,Qe1,g5,Nhf3,Qd7,d4,exd4,cxd4,Bb4,Qe3,Ng6,Nxg5,Kg7,Ndf3,hxg5,Nxg5,Rae8,Nxf7,Rxf7', 'Qh6+,Kg8,Qxg6+', 'https://lichess.org/training/Pu9fK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pu9rC', 'Blitz', 'Dohani', 2362, 'FM Dr_Nezard', 2493, 'Nf3,c5,c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,O-O,a6,d4,cxd4,Nxd4,Qc7,b3,Nc6,Bb2,d6,e3,Bg4,Qd2,Nxd4,Qxd4,Qc8,Rfe1,Rb8,Rac1,Re8,Qb6,Nd7,Qa5,Qc5,Qxc5,Nxc5,Bf1,Bf3,Ba1,h5,h4,Kf8,Nd5,Bxa1,Rxa1,Bxd5,cxd5,Rec8,Rac1,Nd7,Bh3,Ke8,Bxd7+,Kxd7,Kf1,Rc5,Rxc5,dxc5,Ke2,b5,Kd3,Rc8,Rc1,Kd6,e4,f6,f4,a5,Rc2,Ra8,a3,a4,b4,cxb4,axb4,Kd7,Kd2,Rc8,Rxc8,Kxc8,e5,Kd7,Kc2,Ke8,Kc3,Kf7,Kc2,Kf8,Kc3,Ke8,Kc2,Kd8,Kc3,fxe5,fxe5,Kd7,Kc2,Kc7,Kc3,Kb6,Kc2,Kc7,Kc3,Kd7,Kc2,Ke8,Kc3,Kf7,Kc2,g5,hxg5,Kg6,Kc3', 'Kxg5,d6,exd6,exd6,Kf6,d7,Ke7,d8=R,Kxd8', 'https://lichess.org/training/Pu9rC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PUAta', 'Blitz', 'sneezeonyourgrandma', 1719, 'azhar1234', 1729, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Be3,Nf6,f3,Be7,Nc3,O-O,Qd2,Nxd4,Bxd4,Bd7,h4,Bc6,g4,Nd7,O-O-O,Ne5,Be2,a6,f4,Nd7,g5,b5,Nd5,Nb6,h5,Nc4,Bxc4,bxc4,g6,Bxd5,gxh7+,Kh8,Bxg7+,Kxg7,Qxd5,Rb8,Rdg1+,Kh8,e5,dxe5,Qg2,Bf6,h6,exf4', 'Qg7+,Bxg7,hxg7#', 'https://lichess.org/training/PUAta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('puEu9', 'Rapid', 'Vlnguy', 1735, 'Arrowswest-1', 1786, 'e4,e5,f4,exf4,Nf3,h6,d4,g5,Bc4,Nf6,Nc3,Bb4,Qd3,Bxc3+,bxc3,O-O,O-O,d5,exd5,Qd6,Bb3,Bg4,c4,Nbd7,c3,Bxf3,Rxf3,Rae8,a4,Ne4,Ba3,c5,Re1,b6,Bc2,Qg6', 'Rxe4,Qxe4,Qxe4,Rxe4,Bxe4', 'https://lichess.org/training/puEu9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pUFdD', 'Blitz', 'ChessNitram', 1684, 'chess234', 1718, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e6,Nc3,a6,a4,Nc6,Nxc6,bxc6,g3,Nf6,Bg2,Bb7,O-O,Be7,f4,Qc7,g4,O-O,g5,Nd7,f5,exf5,exf5,d5,Qg4,Ne5,Qg3,Bd6,Bf4,Nc4,Bxd6,Qxd6,Qg4,Ne3,Qh5,Nxf1,Rxf1,g6,Qh6,Qc5+,Kh1,Kh8,f6,Rg8,Rf3,Qf8', 'Qxh7+,Kxh7,Rh3+,Qh6,Rxh6#', 'https://lichess.org/training/pUFdD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PUh4G', 'Classical', 'lmaojames', 1656, 'KmelZed2167', 1682, 'e4,e5,Nf3,Nc6,Bb5,f6,Nc3,a6,Ba4,Nge7,d4,b5,Bb3,a5,Nxb5,Ba6,a4,exd4,Nfxd4,Nxd4,Qxd4,Nc6,Qc4,Qe7,Nxc7+,Kd8,Nxa6,Ne5,Qc7+,Ke8,Bd5,Rxa6,Qc8+,Qd8,Qxa6,Bb4+,c3,Bc5,O-O,f5,Rd1,Ng4,Rd2,Qh4,h3,Bxf2+,Rxf2', 'Qxf2+,Kh1,Qe1+,Qf1,Qxf1#', 'https://lichess.org/training/PUh4G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PUh7q', 'Rapid', 'mikel', 1806, 'joomjoom', 1777, 'd4,e6,c4,Nf6,Bg5,Be7,Nc3,h6,Bxf6,Bxf6,e3,O-O,e4,e5,d5,d6,Nf3,c6,h3,c5,a3,Bd7,b4,cxb4,axb4,Na6,Qb3,Nc7,Be2,a6,O-O,g5,Nh2,Be7,Ng4,Kg7,Rfd1,f5,Nxe5,dxe5,d6,Ne6,dxe7,Qxe7,Nd5,Qf7,exf5,Qxf5,f3,Nd4,Qd3,Nxe2+,Qxe2,Bc6,Ne7,Qe6,Nxc6,Qxc6,Qxe5+,Rf6,Qe7+,Rf7,Qd6,Qxc4,Qe5+,Kg8,Rd4,Qc6,Rad1,Raf8,Rd8,Qb6+,Qd4,Qxd8,Qxd8,Rxd8,Rxd8+,Kg7,Kf2,Kf6,Rd6+,Kg7,Ke3,Rf4,Rd7+,Rf7,Rxf7+,Kxf7,Kd4,b6,Kd5,a5,bxa5,bxa5,Kc4,a4,Kb4,Ke6,Kxa4,Kd5,Kb3,Kd4,g3', 'Ke3,f4,gxf4,gxf4,Kxf4,h4,Kg4,h5,Kxh5', 'https://lichess.org/training/PUh7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PUHT8', 'Rapid', 'Dodo48', 1873, 'ranmaru2103', 1970, 'd4,d5,g3,Nf6,Bg2,c6,c3,Bf5,Bf4,Nbd7,Nd2,Nh5,Be3,e5,dxe5,Nxe5,Ngf3,Bd6,Nxe5,Bxe5,Nf3,Bc7,Qb3,Qc8,O-O,O-O,Nh4,Bd7,Qc2,Bh3,Nf3,Nf6,Ng5,Bxg2,Kxg2,h6,Nf3,Ne4,c4,f5,cxd5,cxd5,Rac1,Bd6,Qb3,Qe6,Nd4,Qf7,Nb5,Be5,Rfd1,a6,Nc3,Nxc3,bxc3,f4,Bc5,f3+,exf3,Qxf3+,Kg1,Rfd8,a4,Rac8,Be3,Rc7,Bb6,Rxc3', 'Rxc3,Qxc3,Qxc3,Bxc3,Bxd8', 'https://lichess.org/training/PUHT8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pUhw4', 'Classical', 'ahmet7106', 1662, 'Aliaksandr80', 1775, 'e4,e6,Nf3,d5,exd5,exd5,Bb5+,c6,Be2,Bd6,O-O,Ne7,d4,O-O,Bg5,h6,Bh4,Bf5,Re1,Re8,b3,Nd7,c4,b6,Nbd2,g5,Bg3,Bxg3,fxg3,c5,Nf1,Nc6,dxc5,dxc4,Bxc4,Nxc5,Rxe8+,Qxe8,Qd5,Be6,Qd2,Bxc4,bxc4,Ne4,Qd5,Nb4,Qf5,Rc8,Re1,Rxc4,N1d2,Nd3,Rxe4,Rc1+,Nf1,Qc6,Rd4,Rxf1+,Kxf1,Qc1+,Ke2,Qc2+,Nd2', 'Nc1+,Ke1,Qxf5', 'https://lichess.org/training/pUhw4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pUHzT', 'Rapid', 'magdalen', 1759, 'Talexander', 1695, 'e4,Nc6,d4,Nf6,e5,Nd5,c4,Ndb4,a3,Na6,b4,Nab8,b5,Na5,Bd2,b6,Qa4,Bb7,d5,e6,Nc3,Bc5,Ne4,exd5,Nxc5,Qe7,Nxb7', 'Qxe5+,Be2,Qxa1+', 'https://lichess.org/training/pUHzT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pUJ9S', 'Rapid', 'Kair-20', 1728, 'warklor', 1712, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,e5,c3,Nf6,Nd2,d5,h3,d4,Qf3,Bc5,g4,h6,a3,Be6,c4,Qb6,b4,Be7,Bd3,Qa6,b5,Qa4,bxc6,Qxc6,a4,Bb4,Ne2,Nd7,Ng3,Nc5,O-O,Nxd3,Qxd3,Bxd2,Bxd2,Bxc4,Qc2,Bxf1,Qxc6+,bxc6,Kxf1,O-O,h4,f6,Nf5,c5,Ne7+,Kf7,Nd5,Rab8,Kg2,Rb2,Ba5,Rfb8,Rc1,Ra2,Rxc5,Rbb2,Rc7+,Kg6,h5+,Kg5,Rxg7+,Kh4,Be1,Re2,Kf1,Rxe4,f3+,Rxe1+,Kxe1,Kg3,Nxf6,Kxf3,Rf7,Ke3,Nd5+,Ke4,Nb4,Rb2,Nc6,Ke3,Re7', 'Rb1#', 'https://lichess.org/training/pUJ9S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pujAC', 'Classical', 'mpinis', 1872, 'Onyx_Chess', 1953, 'd4,Nf6,Bf4,b6,e3,Bb7,Nf3,d6,Bd3,Nbd7,O-O,h6,h3,g5,Bh2,g4,hxg4,Nxg4,Nbd2,Nxh2,Kxh2,e5,Be4,d5,Bf5,e4,Bxd7+,Qxd7,Ne5,Bd6,Qh5,O-O-O,f4,exf3,Rxf3,Bxe5+,Qxe5,Rhg8,Raf1,Rg5,Qf6,Rdg8,R1f2,R8g7,Qxh6,Kb8,Rxf7,Rxf7,Rxf7,Qg4,Qf8+,Bc8,Rf2,Qh4+,Kg1,Rh5,Kf1,Qh1+,Ke2,Qc1,Qd8,Qxb2,Rf8,Qb5+,Ke1,Rh1+,Kf2,Qa6,g4', 'Rh2+,Kg3,Rxd2', 'https://lichess.org/training/pujAC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PUkSI', 'Blitz', 'Imric22', 1965, 'elcarbis', 2023, 'e4,c6,Nc3,d5,Nf3,Bg4,h3,Bh5,Be2,Nf6,e5,Nfd7,d4,e6,O-O,c5,dxc5,Bxc5,Na4,Be7,Be3,Bxf3,Bxf3,Nxe5,Be2,O-O,Nc5,Bxc5,Bxc5,Re8,f4,Ned7,Be3,Nc6,f5,Nb6,f6,d4,Bg5,Qd5,h4,e5,fxg7,e4,Bh5,Ne5,Rf6,Ng6,Qf1,Kxg7,Rf5,Qd7,Bxg6,fxg6,Rf6,Re6,Qf4,Nd5', 'Bh6+,Kh8,Rf8+,Rxf8,Qxf8#', 'https://lichess.org/training/PUkSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PUMPV', 'Blitz', 'BoomGuy', 1621, 'Dinkramat', 1604, 'Nf3,Nc6,d4,d5,c4,h6,Nc3,e6,Bf4,a6,e3,Nf6,Bd3,Nh5,Be5,Nxe5,Nxe5,Nf6,Qc2,Bd6,Bg6,fxg6', 'Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/PUMPV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('puOkf', 'Rapid', 'chupa1989', 1896, 'Adirohmanrobbani', 1901, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,g6,Bc4,Bg7,d3,Nf6,O-O,O-O,e5,dxe5,fxe5,Nxe5,Bb3,Nxf3+,Qxf3,Bg4,Qg3,Qd4+,Be3,Qd7,Bxc5,Nh5,Qf2,Rac8,Rae1', 'Rxc5,Qxc5,Bd4+,Qxd4,Qxd4+', 'https://lichess.org/training/puOkf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pUORv', 'Classical', 'Javidivitch', 2017, 'EmptySet2', 1997, 'd4,d5,Bf4,Nf6,e3,c5,c3,cxd4,exd4,Nc6,Bd3,Bg4,Nf3,e6,Nbd2,Bd6,Bg3,a6,h3,Bxf3,Qxf3,Qc7,Bxd6,Qxd6,O-O,O-O,Nb3,b5,Nc5,Rfb8,b4,a5,a4,bxa4,b5,Na7,Rfb1,Nd7,Rxa4,Nxc5,dxc5,Qxc5,Bxh7+,Kxh7,Qxf7,Rf8', 'Rh4#', 'https://lichess.org/training/pUORv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PuqfZ', 'Rapid', 'Matteo_Coccino', 1646, 'MartaDalpozzo', 1969, 'e4,e5,Qf3,Nc6,Bc4,Nf6,Bb3,Bc5,Qc3,Bxf2+,Kxf2,Nxe4+,Ke3,Nxc3,bxc3,Na5,Ba4,Rf8,Na3,c6,Rb1,Qf6,d3,b5,Nc4,bxa4,Nxa5,Qf1,Rb4,Qe1+,Kf3,Qf1+,Kg3,c5,Rb5,Bb7,Nxb7,Ke7,Nxc5,Rab8,Ra5,Qf6,Rxa7,Qg6+,Kf2,Qf6+', 'Nf3,Qb6,Rxd7+', 'https://lichess.org/training/PuqfZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pUQJV', 'Rapid', 'Enek90', 2110, 'amun784', 2138, 'b4,d5,Bb2,e6,b5,Bd7,e3,a6,a4,axb5,axb5,Rxa1,Bxa1,Nf6,Nf3,Be7,c4,dxc4,Bxc4,O-O,O-O,Qe8,Qb3,Ne4,Nc3,Nd6,Ne5,Bc8,d4,Nxc4,Qxc4,Kh8,Qxc7,Nd7,Nxd7,Qxd7,Qxd7,Bxd7,Bb2,Bb4,Rb1,Rc8,Na2,Bd6,Bc3,Ra8,Nc1,Ra3,Bb4,Bxb4,Rxb4,Ra1,Rc4,h6,h3,Bxb5,Rc5,Bc6,Kh2,Kh7,Nd3,Ra2,Ne5,Bd5,Nd3,Rd2,Nb4,Be4,Kg3,g6,f3,Rb2,Rb5,Bc6,Rb6,Kg7,e4,Rb3,Nd5', 'Bxd5,Rxb3,Bxb3', 'https://lichess.org/training/pUQJV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PUqVu', 'Classical', 'Evgen13', 1888, 'Eni_Oro', 1776, 'd4,d5,c4,Nf6,Nc3,e6,e3,Be7,Nf3,Nc6,Bd3,h6,O-O,Nb4,cxd5,Nxd3,Qxd3,exd5,e4,c6,e5,Nd7,Re1,O-O,Ne2,Bb4,Rd1,Re8,Ng3,Nf8,a3,Ba5,b4,Bb6,Be3,Bg4,Bf4,Ne6,Bc1,Bxf3,Qxf3,Bxd4,Rxd4,Nxd4,Qg4,Kh7,Qxd4,Qe7,Qd3+,Kh8,f4,Rad8,Nf5,Qc7,Nd6,Re7,Qg3,g6,Be3,b6,h4,c5,bxc5,bxc5,Rc1,c4,f5,gxf5,Bxh6,Rg8,Qf4,Rg4,Qxf5,Qc5+,Kh2', 'Rxh4+,Kg3,Rxh6', 'https://lichess.org/training/PUqVu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pUQxv', 'Rapid', 'Damacles', 1706, 'Maciekkeicam', 1624, 'e4,e5,Bc4,Bc5,Qh5,Qf6,Nf3,d6,Nc3,g6,Qh4,b6,Qg3,Ba6,Bxa6,Nxa6,a3,Ne7,d3,c6,Bg5,Qe6,Rd1,d5,Nxe5,f6,exd5,cxd5,O-O,fxe5,Rfe1,Nc6,Kh1,O-O,f4,Bd4,Ne2,Bxb2,fxe5,Bxa3,d4,Bb4,c3,Be7,Bh6,Rf5,Nf4,Qf7,h4,Nc7,h5,Ne6,hxg6,hxg6,Nxg6,Rh5+,Kg1,Rxh6,Nxe7+,Kf8,Nxc6,Rg6,Qh3,Nf4,Qh8+,Rg8,Qh6+,Rg7,Rf1,Ne2+,Kh1,Qxf1+,Rxf1+,Kg8,Ne7+,Rxe7,Rf6', 'Rh7,Rg6+,Kh8', 'https://lichess.org/training/pUQxv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pUSHD', 'Rapid', 'di1991', 1892, 'pietypma', 1792, 'd4,d5,Bf4,Nf6,e3,e6,h3,c5,c3,Nc6,Nf3,c4,b3,b5,Be2,Bb7,a4,a6,axb5,axb5,Rxa8,Qxa8,O-O,Be7,b4,O-O,Qc1,Ne4,Nbd2,f5,Nxe4,fxe4,Ng5,Bxg5,Bxg5,Rf5,Bf4,Qe8,Bg4,Rf8,f3,e5,dxe5,Nxe5,Qa3,exf3,Bxf3,Nd3,Qa7,Bc6,Qc7,Rf7,Qd6,Rf6,Qc7,h6,Kh1,Nxf4,exf4,Qe3,Qd8+,Kh7,Bxd5,Bxd5,Qxd5,Rxf4,Rxf4,Qxf4,Qxb5,Qc1+,Kh2,Qxc3,Qf5+,Kg8,b5,Qd4,Qe6+,Kh7,b6,c3,b7', 'Qf4+,g3,Qf2+', 'https://lichess.org/training/pUSHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PuSXZ', 'Blitz', 'Tobberk', 2200, 'Rualangel', 2256, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,Bb5,Qa5+,Nc3,Nxc3,Bxc6+,bxc6,bxc3,Qxc3+,Bd2,Qa3,O-O,Ba6,Re1,e6,Rb1,Be7,Bb4,Qxa2,exd6,Bf6,d7+,Kxd7,Ne5+,Bxe5,dxe5+,Kc8,Bd6,Rd8,Qc1,Qc4,Qa3,Bb5,Rec1,Qd3,Qc5,Kd7,Rd1,Qe4,Rxb5,Ke8,Rb7,Rd7,Rxd7,Kxd7,Bf8+,Kc8,Bxg7,Rb8,Bf6,Rb1,Qd6', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/PuSXZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('puTDy', 'Blitz', 'filasin', 1574, 'kleiner0', 1574, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,d4,Na5,c3,Nxb3,Qxb3,exd4,cxd4,c5,Ng5,O-O,dxc5,dxc5,Nc3,h6,Nf3,Be6,Qc2,Qc7,e5,Nd5,Ne4,Nb4,Qe2,Bg4,Be3,Rac8,a3,Bxf3,Qxf3,Nc2,Nf6+,gxf6,exf6,Nxe1', 'Qg4+,Kh7,Qg7#', 'https://lichess.org/training/puTDy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PuTWm', 'Rapid', 'Naoufel', 1852, 'shah66', 1829, 'e4,g6,Nf3,Bg7,Bc4,c5,Ng5,e6,d3,b5,Bxb5,Qa5+,Nc3,Bxc3+,bxc3,Qxb5,Qf3,f6,e5,fxg5,Qxa8,Qb7,Qxb7,Bxb7,O-O,h6,d4,cxd4', 'Rb1,Kd8,Rxb7', 'https://lichess.org/training/PuTWm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pUu6l', 'Blitz', 'Fylou1', 1572, 'meckimesser', 2291, 'd4,g6,c4,Bg7,e3,c5,d5,e5,dxe6,fxe6,Nf3,d5,cxd5,exd5,Nc3,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,Ne5,Qd6,Nf3,O-O,b3,a6,Bb2,Nc6,O-O,Rad8,Ne2,b6,Ng3,h6,Qc2,g5,Rfd1,Qe6,Re1,Ne4,Nxe4,dxe4,Nd2,Rd3,Bxg7,Kxg7,Nc4,b5,Nb2,Rd5,Qc3+,Kg6,Rad1,Rfd8,Rxd5,Qxd5,h3,Nb4,Rd1,Nd3,f3,c4,bxc4,bxc4,fxe4,Qxe4,Nxc4,Qxe3+,Kh2,Rd4,Qc2,Qf4+,Kh1,Kh5,Qe2+,Kh4,Rxd3,Rxd3,Ne5,Qc1+,Kh2,Qf4+,Kh1,Re3', 'Ng6+,Kg3,Nxf4,Rxe2,Nxe2+', 'https://lichess.org/training/pUu6l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PUUMH', 'Rapid', 'cloud712', 1895, 'TheBill8', 1870, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Qf6,Bxc6,Qxc6,Qe2,d6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,Bg4,O-O,O-O-O,d5,Qc5,Rfc1,Qb6,Rc2,Nf6,Rac1,Rd7,Rc3,Qxb2,R1c2,Qa1+,Rc1,Qxa2,Qb5,Bxf3,gxf3,Qxd2,R1c2,Qg5+,Kf1,Nh5,f4,Qxf4,f3,Re8', 'Rxc7+,Rxc7,Qxe8#', 'https://lichess.org/training/PUUMH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PUvw5', 'Blitz', 'roquemaspoli', 2277, 'FM wagnerovsky', 2269, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,O-O,d3,d6,e4,Nc6,Nge2,a5,O-O,e5,h3,Nd4,Be3,c5,f4,exf4,Nxf4,Nd7,Qd2,Ne5,Rf2,Be6,Raf1,Qd7,Kh2,h5,Nfd5,Bxd5,Nxd5,Ra6,Bh6,f5,exf5,Nxf5,Bxg7,Qxg7,Nf4,Re8,Bd5+,Kh7,Ne6,Rxe6,Bxe6,Nd4,Rf7,Nxf7,Rxf7', 'Qxf7,Bxf7,Nf3+,Kg2,Nxd2', 'https://lichess.org/training/PUvw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('puwdH', 'Rapid', 'HVSA', 1930, 'Galyhehe', 1906, 'c4,e5,Nc3,Nf6,b3,b6,Bb2,d6,e3,Bb7,Nf3,Be7,d4,e4,Nd2,O-O,d5,c6,Ndxe4,Nxe4,Nxe4,cxd5,cxd5,Bf6,Bxf6,gxf6,Qg4+,Kh8,Qf5,Nd7,Bd3,Rg8,Nxd6,Rg7,Nxb7,Qc7,Be4,Rc8,d6', 'Qc3+,Kd1,Qxa1+', 'https://lichess.org/training/puwdH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('puWKE', 'Rapid', 'Milojka', 1787, 'Nanobotas', 1811, 'd4,f5,Nf3,Nf6,g3,e6,Bg2,c6,c4,d5,Nbd2,Bd6,b3,O-O,Bb2,Bd7,Ne5,Be8,Ndf3,Nbd7,Ng5,Qe7,e3,h6,Ngf3,Bb4+,Nd2,Nxe5,dxe5,Nd7,O-O,Nb6,a3,Bxd2,Qxd2,dxc4,Qc3,cxb3,Qxb3,Nd5,a4,Qb4', 'Bxd5,Qxb3,Bxb3', 'https://lichess.org/training/puWKE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PUx4g', 'Rapid', 'raquelib72', 1778, 'Rick97', 1762, 'e4,e5,Nc3,Nc6,Nf3,Nf6,Bc4,Bb4,O-O,d6,Nd5,Nxd5,Bxd5,Bg4,c3,Ba5,d3,h6,Qb3,Bb6,Bxf7+,Kf8,Bg6,Qf6,Nh4,Ne7,h3,Be6,c4,Nxg6,Nxg6+,Qxg6,Kh1,Ke7,Be3,Rhf8,Bxb6,axb6,a4,Rf4,a5,Rh4,Kh2,Qh5,Qd1,Bg4,f3,Bxh3,gxh3,Rxh3+,Kg1,Rh1+,Kf2,Rh2+,Ke3,Qg5+,f4,Rh3+,Kd2,Qg2+,Kc3,Rxa5,Rxa5,bxa5,Rg1,Qf3,Rxg7+,Kf6,Qxf3,Rxf3,Rxc7,exf4,Rxb7,Ke5,Rb5+,Ke6,Rxa5,Re3,b4,f3,b5', 'f2,Ra1,Re1', 'https://lichess.org/training/PUx4g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PUYCZ', 'Rapid', 'Gobbledok', 1807, 'wnaiad', 1863, 'e4,Nc6,Nf3,Nf6,Nc3,e5,Bb5,Bc5,d3,a6,Ba4,d6,Be3,b5,Bb3,Nd4,Bd5,Rb8,O-O,Bg4,a3,Qd7,b4,Bb6,h3,Bxh3,gxh3,Qxh3,Nh2,h5,Bxd4,Ng4,Bxf7+,Kd8,Nf3,Bxd4,Nd5,Qg3+,Kh1,Nxf2+,Rxf2,Bxf2,Nh2,Rf8,Qxh5,Be3,Nxe3,Qxe3,Qh4+,Kd7,Rf1,Rh8,Be6+,Kxe6', 'Qg4+,Ke7,Qxg7+,Kd8,Qxh8+', 'https://lichess.org/training/PUYCZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pUzwj', 'Rapid', 'Mark_A20', 1849, 'belemou', 1900, 'e4,c5,Nf3,b6,Bc4,e6,Nc3,Be7,a3,Nf6,d3,Bb7,Bg5,O-O,Bxf6,Bxf6,O-O,d5,exd5,exd5,Ba2,d4,Ne4,Nd7,h3,Ne5,Nxe5,Bxe5,f4,Bc7,Qg4,Kh8,Rae1', 'f5,Qg3,fxe4', 'https://lichess.org/training/pUzwj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pv0eg', 'Rapid', 'Camilo21', 1876, 'SahejParmar', 1820, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Bf5,Nf3,e6,a3,Nc6,Bf4,Qb6,b4,Nf6,Na4,Qd8,c4,dxc4,Bxc4,Be7,O-O,O-O,Nc3,Rc8,d5,exd5,Nxd5,Bd6,Bxd6,Qxd6,Nxf6+,Qxf6,Qb3,a6,Bd3,Bg4,Be4,Rfe8,Rae1,Be6,Bd5,Bxd5,Qxd5,h6,Rxe8+,Rxe8,Qd7,Re7,Qc8+,Kh7,h3,Qb2,Qf5+,g6,Qd3,Qf6,Rd1,Qe6,Nd4,Nxd4,Qxd4,b5,Kf1,Kg8,Qd8+,Re8,Qd3,h5,Qc3', 'Qe2+,Kg1,Qxd1+', 'https://lichess.org/training/pv0eg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pv1v5', 'Rapid', 'basu9', 1801, 'DAvidadid', 1822, 'd4,d5,Nf3,Nf6,c4,e6,Nc3,Nbd7,Bg5,c6,e3,Qa5,a3,dxc4,Bxc4,Ne4,b4,Qf5,Nxe4,Qxe4,O-O,Bd6,Bd3,Qg4,Bh4,Nf8,Bg3,Bxg3,fxg3,Ng6,Nd2,Qxd1,Raxd1,Ne7,Ne4,O-O,Nd6,Rd8,Nxc8,Raxc8,Rf3,Rf8,e4,Rcd8,Bc4,Nc8,Bb3,a6,Rc3,Nb6,a4,Rd7,a5,Nc8,e5,Na7,Ba4,Rfd8,Rcd3,Nc8,Bb3,Ne7,Kf2,Nf5,g4,Rxd4,Rxd4,Rxd4', 'gxf5,Rxd1,Bxd1', 'https://lichess.org/training/pv1v5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PV1zS', 'Rapid', 'ValentinKrasnoj', 1902, 'mmmmazandarani', 1707, 'd4,d5,c4,dxc4,e3,Be6,Nc3,g6,d5,Bf5,Bxc4,Bg7,Nf3,Nf6,O-O,O-O,Qb3,b6,Nd4,Qd6,Nxf5,gxf5,Re1,Ng4,g3,h5,e4,h4,Bf4,Be5,Nb5,Qf6,exf5,Bxf4,gxf4,Qg7,Nxc7', 'Ne3+,Kh1,Qg2#', 'https://lichess.org/training/PV1zS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pv3vT', 'Rapid', 'paulroad', 1903, 'olen777', 1833, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Qb6,O-O,Nd7,a3,c5,b3,Rc8,dxc5,Nxc5,Qe2,Ne7,a4,Nf5,Qb5+,Qxb5,axb5,a6,bxa6,Nxa6,c3,Nc5,Nbd2,Nd3,c4,dxc4,Nxc4,Bc5,Be3,Nxe3,fxe3,b5,Nd6+,Bxd6,exd6,O-O,Rfd1,Nc5,d7,Rcd8,b4,Ne4,Ne5,Nc3,Rd3,Nd5,e4,Nxb4,Rd2,f6,Rb1,fxe5,Rxb4,Rf7,Rxb5,Rdxd7', 'Rb8+,Rf8,Rxf8+,Kxf8,Rxd7', 'https://lichess.org/training/Pv3vT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pV4Q4', 'Rapid', 'siniweter', 1928, 'BobC', 2210, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nf3,Qc7,O-O,b5,a3,Bb7,Bg5,Nbd7,Rc1,h6,Bxf6,Nxf6,Ne2,Bxe4', 'Bxe4,Nxe4,Qd5,Rc8,Qxe4', 'https://lichess.org/training/pV4Q4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pV5Nu', 'Rapid', 'anakmas', 1756, 'Arlekin_one', 1736, 'd4,e6,e4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Be2,Bd7,O-O,cxd4,cxd4,O-O-O,Nc3,Na5,Rb1,Kb8,Na4,Bxa4,Qxa4,Nc6,Be3,Rc8,Ng5,Qc7,Rfc1,Qe7,b4,h6,Nf3,Nxb4,Rxc8+,Kxc8,Qxa7,Kc7,a3,Qd7,axb4,Ne7,b5,Nc8,Rc1+,Kd8,b6', 'Nxa7,bxa7,Qa4', 'https://lichess.org/training/pV5Nu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PV5qg', 'Blitz', 'justanothercoach', 1810, 'Stayaway7', 1764, 'd4,d5,Nc3,Nf6,Qd3,e6,Bg5,Be7,O-O-O,b6,e4,c6,exd5,cxd5,Bxf6,Bxf6,Nf3,O-O,g4,a6,g5,Be7,h4,b5,Bg2,Nd7,Ne5,b4,Nxd7,bxc3,Nxf8,cxb2+,Kb1,Qxf8,f4,Bd7,Bh3,Rb8,f5,Rc8,fxe6,fxe6,h5,Ba4,Rh2,Qf4,Rhd2,Bxg5,Bxe6+,Kh8,Bxc8,a5,Qe2,h6,Qe8+,Kh7,Qg6+,Kh8,Re2', 'Qc1+,Rxc1,bxc1=Q#', 'https://lichess.org/training/PV5qg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pv7he', 'Rapid', 'DenPolkin', 1684, 'Ihtiander', 1764, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qd8,e4,e6,Nf3,Bb4,Bd2,Bxc3,bxc3,Nxe4,Bd3,Nxd2,Qxd2,O-O,O-O,Nd7,a4,Nf6,h3,Re8,a5,b6,axb6,cxb6,Ng5,Bb7,Qf4,h6,Ne4,Nxe4,Bxe4,Bxe4,Qxe4,Qd7,Ra6,Rec8,Qf3,Rab8,Rfa1,Rc7,Qf4,Rbb7,Kh2,f6,Qf3,Qd6+,g3,e5,d5,Qc5,Kg2,Rd7,Qf5,Qxd5+,Qf3,Qc5,h4,Qe7,c4,Qc5,Qb3,Qd4,c5+,Kh8', 'c6,Rbc7,cxd7', 'https://lichess.org/training/Pv7he');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PV86S', 'Rapid', 'virusmarvs', 2009, 'boron007', 1922, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Nf6,Re1,Nc6,c3,Be7,h3,O-O,a4,Bd7,a5,a6,d4,Nh7,Nh2,Bg5,Bxg5,Nxg5,dxe5,Nxe5,Bb3,Ng6,Qh5,Nf4,Qh4,Nf3+', 'Nxf3,Qxh4,Nxh4', 'https://lichess.org/training/PV86S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PVB24', 'Blitz', 'KAHaskel', 1542, 'old_fox_017', 1515, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Qf6,Qxf6,Nxf6,d3,Be7,Bg5,O-O,Bxf6,Bxf6,O-O,c6,Nd2,d6,Nf3,Be6,Bxe6,fxe6,Rad1,d5,exd5,cxd5,d4,e4,Nd2,Bg5,f4,exf3,Nxf3,Be3+,Kh1,Rf6,Rfe1,Bh6,Ne5,Raf8,Nd7,Rf2,Nxf8,Kxf8,Rxe6,Bd2,Re5,h5,Rxh5,g5,Rh7,g4,Rxb7,Bf4,g3,Be3,Re1,Rf3,Rxa7,Ke8,b4,Kd8,b5,Bd2,Ree7,Bxc3,Rad7+,Kc8,Rc7+,Kb8,Rc5,Bxd4,Rxd5', 'Rf1+,Kg2,Rg1#', 'https://lichess.org/training/PVB24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pvBAS', 'Blitz', 'veakod-ahkav', 2179, 'Rejsulema', 2193, 'd4,d5,Bf4,Nf6,e3,Bf5,c4,c6,Qb3,Qb6,c5,Qxb3,axb3,Nbd7,b4,Nh5,Bg5,f6,Bh4,g5,Bg3,Nxg3,hxg3,Bg7,Nc3,O-O,f3,e5,g4,Bg6,Be2,f5,gxf5,Bxf5,e4,exd4,Nxd5,cxd5,exf5,d3,Bxd3,Bxb2,Rb1,Bc3+,Kf2,Ne5,Bc2,d4,Ne2,a5,Be4,axb4,f6,Ng6,Bd5+,Kh8,Rh6,Rxf6,Rbh1,Kg7,Rxh7+,Kf8,Rh8+,Nxh8,Rxh8+,Ke7,Rxa8,d3,Nxc3,bxc3,Ra3', 'c2,Rc3,d2,Rxc2,d1=Q', 'https://lichess.org/training/pvBAS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PVBQu', 'Rapid', 'jamie-chess', 1788, 'LuisCoya', 1848, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bb4,h3,O-O,Be2,Re8,Bg5,h6,Bh4,Bf5,O-O,Bxc3,bxc3,Nbd7,c4,dxc4,Bxc4,c6,a4,Qa5,Bb3,Be4,Nd2,Qf5,Nxe4,Nxe4,Qd3,Nd6,Qd1,Qe4,Bg3,Nf5,c3,Nf6,Be5,Nd5,Qd2,Kf8,Bc2,Qh4,Bxf5,Qd8,Rfe1,f6,Bg3,Qa5,Rxe8+,Rxe8,Bd6+,Kf7,Qd3,Kg8,Bh7+,Kh8,Bg6,Rd8,Bb4,Nxb4,cxb4,Qxb4,Rd1,Qxa4,Bf7,Qb4,d5,cxd5,Bxd5,Qc5,Qf3,b6,Bb3,Re8,Qd3,Qb4,Bf7,Re1+,Kh2', 'Qf4+,Qg3,Qxg3+,Kxg3,Rxd1', 'https://lichess.org/training/PVBQu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PvCza', 'Rapid', 'mholtz2020', 1775, 'axpx', 1782, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nf3,Qb6,Qb3,Qxb3,axb3,cxd4,exd4,e6,Bb5,Be7,O-O,O-O,Ne5,Nxe5,Bxe5,Bd7', 'Bxf6,Bxb5,Bxe7', 'https://lichess.org/training/PvCza');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pvdzC', 'Classical', 'mandegar79', 1821, 'Vladislav8600000', 1855, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,Nf6,Nc3,a6,Bxc6,dxc6,Re1,Bg4,d3,h6,Be3,O-O,a3,c5,h3,Bxf3,Qxf3,c6,Rad1,Qb6,Bxh6,Qxb2,Qg3,Nh5,Qg4,g6,Ne2,Rfe8,Rb1,Qxc2,Rxb7,Qxd3,Qd7,Re7,Qxc6,Rxb7,Qxb7,Rb8,Qc6,Kh7,Be3,Rb2,Nc1,Qc3,Nd3,Rd2,Qxd6', 'Rxd3,Qxd3,Qxd3', 'https://lichess.org/training/pvdzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PVeJm', 'Rapid', 'Baro-usta61', 1913, 'Deepak153', 1913, 'e4,e5,Bc4,Nc6,Nc3,Nf6,d3,h6,Nf3,Bb4,Bd2,O-O,Nd5,Bxd2+,Qxd2,b6,O-O-O,d6,h3,Na5,Nxf6+,Qxf6,Bd5,Bb7,Bxb7,Nxb7,d4,Na5,dxe5,dxe5,Qc3,Qe6,b3,f6,g4,c5,h4,Nc6,g5,Nd4,Nxd4,cxd4,Qd2,Qe7,gxh6,g6,h5,Qa3+,Kb1,g5,Qd3,Qb4,Qa6,Rf7,a3,Qc3,Qb5,Rc8,Rc1,Rfc7,Qd5+,Kh7,Qe6,Qf3,Rh3,Qxf2,Rhh1,Rxc2', 'Qf7+,Kh8,Qg7#', 'https://lichess.org/training/PVeJm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pvfGc', 'Classical', 'said1957', 1640, 'pinner23440', 1710, 'd4,d5,c4,dxc4,e4,e5,d5,c6,Bxc4,cxd5,Bxd5,Nf6,Qa4+,Bd7,Qb3,Nxd5,Qxd5,Nc6,Nf3,Be6,Qxd8+,Rxd8,O-O,Bc5,Nc3,O-O,a3,Bd4,Nb5,a6,Nbxd4,exd4,Rd1,Bg4,Rd3,Bxf3,Rxf3,Ne5,Rg3,d3,Bd2,Nc4,Bc3,f6,Rd1,d2,a4,b5,axb5,axb5,b3,b4,Bxb4,Nb2,Rxd2,Rxd2,Bxd2,Rd8,Be1,Rd1,Re3,Nd3,Kf1,Nxe1,Rxe1,Rd3,Rb1,Rd4,f3,Kf7,Ke2,Ke6,b4,Rd6,f4,Rb6,Kd3,Kd6,Kd4,Rb5,e5+,fxe5+,fxe5+,Rxe5,b5,Re7,b6,Rb7,Rb5,Kc6,Kc4,h6,h4,g5,hxg5,hxg5,Rxg5,Kxb6,g4,Ka6,Rg6+,Ka7,Kd5,Re7,Kd6,Re1,g5,Rb1,Rg7+,Kb8,g6,Rg1,Ke7,Kc8,Kf8,Kd8,Kf7,Kd7,Kg8+,Ke8,Kh8,Kf8,Rg8+,Ke7,g7', 'Rh1#', 'https://lichess.org/training/pvfGc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pvftu', 'Rapid', 'AB123456', 1983, 'marinisteri', 1927, 'd4,e6,c4,d5,e3,Bb4+,Bd2,Qe7,a3,Bxd2+,Nxd2,Nd7,Ngf3,b6,Bd3,Bb7,O-O,Ngf6,Re1,O-O,e4,dxc4,Bxc4,Rad8,e5,Nd5,Rc1,c5,dxc5,Nxc5,b4,Nd7,Qe2,Nf4,Qe3,Ng6,Bd3,f5,exf6,Rxf6,Rc7,Bxf3,Nxf3,Qd6,Rxa7,Rxf3,gxf3,Nde5,Bxg6,Nxg6,Qxe6+', 'Qxe6,Rxe6,Rd1+,Kg2,Nf4+,Kg3,Nxe6', 'https://lichess.org/training/Pvftu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pvG2I', 'Classical', 'MatheusCTS', 1866, 'hassanjafariS69', 2025, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Be3,Bb6,c3,O-O,a4,d5,Bb5,d4,Bd2,Ng4,c4,Bd7,b4,a6,Bxc6,Bxc6,h3,Nf6,Nxe5,Qe8,f4,Rd8,O-O,Kh8,Be1,h6,Bh4,Qe6,Nd2,a5,b5,Be8,Ndf3,Bc5,f5,Qd6,Bg3,Qb6,Qc1,c6,Bf4,Ng8,g4,f6,Ng6+,Bxg6,fxg6,cxb5,cxb5,Bd6,Bd2,Rc8,Qe1,Ne7,Nh4,Qc7,Qf2', 'Bg3,Qf3,Bxh4', 'https://lichess.org/training/pvG2I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pVg8s', 'Rapid', 'pravin210', 2102, 'SAM681993', 2065, 'e4,e6,d4,c5,c3,b6,Nf3,Bb7,Bd3,Nf6,Bg5,Be7,Qc2,g6,Nbd2,O-O,O-O-O,Ne8,Bh6,Ng7,Kb1,cxd4,Nxd4,a6,h4,b5,h5,Nc6,hxg6,fxg6,e5', 'Nxd4,cxd4,Rc8,Bxg6,Rxc2', 'https://lichess.org/training/pVg8s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pvGjJ', 'Blitz', 'enzhao', 1617, 'babaksalehi67', 1709, 'c4,Nf6,Nc3,e6,g3,c5,Bg2,d5,b3,Nc6,e3,Be7,Nge2,O-O,Bb2,Nb4,Nf4,g5,Nfe2,Nd3+,Kf1,Nxb2,Qc2,Nxc4,bxc4,dxc4,Rb1,Rb8,Ne4,h6,Qxc4,Qa5,N2c3,b6,a4,Ba6,Nb5,Nd5,Nec3,Nxc3,dxc3,Rbd8,Qe2,Bf6,Qc2,Rd7,Bc6,Rdd8,Kg2,Rc8,Be4,Bxb5,axb5,Qxc3,Qxc3,Bxc3,Rhd1,Rcd8,Bc6,Rxd1,Rxd1,Rc8,Rd7,Kg7,Rxa7,Rb8,Rd7,Kf6,Rd3,Bb4,f4,Kf5,Kf3,f6', 'Be4#', 'https://lichess.org/training/pvGjJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PvGNk', 'Rapid', 'aswood', 1722, 'kreeves002', 1688, 'b3,Nf6,Bb2,c5,e3,g6,Nc3,Bg7,Qf3,Nc6,Ne4,d5,Nxc5,Qa5,Nd3,Ne4,c3,Bf5,b4,Qb6,g4,Nxd2,Qe2,Be4,f3,Bxd3,Qxd2,Bxf1,Kxf1,Bh6,f4,O-O,Nf3,a5,a3,axb4,cxb4,Qb5+,Kf2,Rfd8,Nd4,Nxd4,Qxd4,f6,g5,Bg7,h4,e5,fxe5,fxe5,Qd2,Rf8+,Kg2,Qd7,Rh3,Qg4+,Kh2,Rf3,Qxd5+,Rf7,Rf1', 'Qe2+,Qg2,Qxf1,Qxf1,Rxf1', 'https://lichess.org/training/PvGNk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pVGpC', 'Classical', 'Seg80', 1915, 'gogga123', 2015, 'e4,e6,Nf3,d5,exd5,exd5,c4,c6,cxd5,cxd5,d4,Nc6,Nc3,Bb4,Bd2,Nf6,a3,Bd6,Bd3,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Be2,Qe7,Nxd5,Qe6,Ne5,Nxe5,Bxg4,Nxg4+,Qe2,Qxe2+,Kxe2,Kd7,Rhg1,Rae8+,Kf3,h5,Nf4,g5,Nxh5', 'Nh2+,Kg2,Rxh5', 'https://lichess.org/training/pVGpC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pvhoA', 'Rapid', 'mamai27', 1837, 'letsflamenco', 1917, 'e4,e5,f4,d5,exd5,e4,Nc3,Nf6,Bc4,Bg4,Nge2,Bc5,d4,exd3,Qxd3,O-O,Bd2,Re8,O-O-O,Bb4,h3,Bxc3,Qxc3', 'Bxe2,Bxe2,Rxe2', 'https://lichess.org/training/pvhoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PvjOD', 'Classical', 'iqfranta', 1702, 'def-spb', 1986, 'e4,e5,Bc4,Nf6,d4,Nxe4,Bxf7+,Kxf7,dxe5,Nc5,Nh3,h6,Nf4,Qg5,O-O,Qxe5,Re1,Qf5,Re3,Bd6,Nd5,Qg6,Qf3+,Kg8,Ne7+,Bxe7,Rxe7,Ne6,Nc3,Nc6,Nd5,Kh7', 'Nf6+,Qxf6,Qxf6,Nxe7,Qxe7', 'https://lichess.org/training/PvjOD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PVK9Z', 'Rapid', 'Abdullah33', 1882, 'stalemate20', 1841, 'c3,d5,g3,e5,Bg2,Nf6,d4,e4,f3,Bf5,Qb3,b6,Bg5,Be7,Bxf6,Bxf6,Nd2,e3,Ne4,dxe4,fxe4,Be6,Qb5+,c6,Qd3,Qd7,Qxe3,Bh3,Bf3,Bg4,Bg2,h6,h4,O-O,Nh3,Re8,Qf4,h5,Nf2,Qe6,Nxg4,Qxg4,Qf2,Nd7,Bf3,Qe6,e5,Be7,Bxh5,b5,O-O,Rf8,Qf4,Nb6,Bg4,Nd5,Qf3,Qh6,e4,Ne3,Rae1,Nxf1,Rxf1,Rad8,Qg2,b4,Bf5,bxc3,bxc3,Rb8,g4,Qe3+,Kh2,Qxc3,h5,Rb2,Rf2,Rxf2,Qxf2,Bg5,e6,fxe6,Bxe6+,Kh7,Qxf8,Qd2+,Kh1,Qe1+,Kg2', 'Qxe4+,Qf3,Qxe6', 'https://lichess.org/training/PVK9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pvl0C', 'Rapid', 'shubhamsonu05', 1965, 'basezen', 1926, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Neg5+,Kg8,d4,h6,Nh3,e4,Ne5,Nxe5,dxe5,Bc5,Nf4,Bf5,b3,Kh7,O-O,Qh4,Qh5,Qxh5,Nxh5,c6,Bb2,Rhe8,Kh1,d4,f4,exf3,Rxf3,Bxc2,Re1,Bb4,Rf7,Bxe1,Rxg7+,Kh8,Bxd4,Re6,Rxb7,Rf8,Kg1,Bd3,Nf6,Bh4,Rxa7,Bxf6,exf6,Re1+,Kf2,Rf1+,Ke3,Bb5,a4,Re1+,Kf2,Re2+,Kf3,Bd3,a5,Re6,b4,Kg8', 'Rg7+,Kh8,f7', 'https://lichess.org/training/Pvl0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PvlVJ', 'Rapid', 'iamincollege', 2022, 'Donnerblitzbub', 1987, 'e4,c6,Nf3,d5,Nc3,Bg4,h3,Bxf3,gxf3,Nf6,exd5,Nxd5,Nxd5,Qxd5,d3,e6,Be3,Nd7,Qd2,Qxf3,Rg1,Bd6,Rxg7,Be5,Rg4,f5', 'Bg2,fxg4,Bxf3', 'https://lichess.org/training/PvlVJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PVmiW', 'Blitz', 'asd1343', 1720, 'krisok', 1706, 'e4,c5,Nf3,d6,Be2,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Bd7,O-O,Nf6,Bf3,e5,Qd3,a6,Rd1,Bb5,Qd2,Rc8,Nc3,Bc6,Re1,Be7,Nd5,Bxd5,exd5,O-O,c3,Rc5,Qe2,Nxd5,Bxd5,Rxd5,Qe4,Rc5,Be3,Rc8,Qxb7,Rb8,Qxa6,Rxb2,Rec1,d5,Rd1,Bh4,Qd3,Qf6,g3,Bg5,Bxg5,Qxg5,Qxd5,Qf6,Rd2,Rxd2,Qxd2,Rd8,Qe2,h5,a4,e4,Rc1,h4,Qxe4,Rd2,Qe3,Ra2,Kg2,Qc6+,Qf3,Qh6,Re1,h3+,Kg1,Qd2,Qe3,Qb2,g4,Ra1,Kf1,Rxe1+,Kxe1,Qb1+,Ke2,Qc2+,Kf3,Qd1+,Kg3,Qg1+,Kxh3,Qf1+,Kg3,Qg1+,Kh3,Qf1+,Kh4,f6,Qe6+,Kh7,Qf5+,g6,Qxf6,Qg2,f3', 'Qxh2+,Kg5,Qh6#', 'https://lichess.org/training/PVmiW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PVmn6', 'Rapid', 'avelpic', 1860, 'Pittywende', 1842, 'e4,d6,Nf3,Nf6,Nc3,Nc6,d4,g6,d5,Nb8,e5,dxe5,Nxe5,Bg7,Bc4,Nbd7,Nxf7,Kxf7,d6+,e6,O-O,Ne5,Bb3,Qxd6,Qe1,Bd7,Bf4,Nh5,Ne4,Qc6', 'Ng5+,Ke7,Bxe5,Bxe5,Qxe5', 'https://lichess.org/training/PVmn6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PVoa9', 'Blitz', 'otras_mozgu', 2377, 'IM kachelsona', 2528, 'Nf3,d5,c4,d4,e3,Nc6,exd4,Nxd4,Nxd4,Qxd4,d3,c6,Nc3,Nh6,Bxh6,gxh6,Be2,Bf5,Qb3,O-O-O,O-O,Rg8,Bf3,Qf4,Kh1,Bh3,Ne2,Qf6,Ng3,Bd7,Ne4,Qf4,Nc5,b6,Nxd7,Rxd7,Bxc6,Rc7,Qa4,e6,Bf3', 'Bd6,g3,Qxf3+', 'https://lichess.org/training/PVoa9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pvOpM', 'Rapid', 'Andres08', 2100, 'Tuturdu50', 1996, 'd4,c6,Nf3,d5,c3,Nf6,Bg5,e6,Bxf6,Qxf6,Nbd2,Bd6,e4,dxe4,Nxe4,Qe7,Bd3,Nd7,Qc2,h6,O-O,Nf6,Nxd6+,Qxd6,Rfe1,Bd7,Ne5,O-O,Rad1,Qc7,Qe2,Rfd8,Ng4,Qf4,Nxf6+,Qxf6,Qe4,g6,h4,h5,Re3,c5,Rf3,Qg7,dxc5', 'Bc6,Qe2,Bxf3', 'https://lichess.org/training/pvOpM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pVQ9e', 'Rapid', 'King_Killer33', 1836, 'MarcaoJr', 1847, 'e4,e5,Nf3,d6,Bc4,Nc6,Nc3,Bg4,h3,Bh5,d3,Nd4,g4,Bg6,Nxd4,exd4,Ne2,c5,f4,h5,g5,Ne7,f5,Bh7,h4,d5,Bb5+,Nc6,Bf4', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/pVQ9e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pVR6e', 'Classical', 'YunusYemez', 1750, 'HamidNoori1989', 1771, 'e4,c5,Nf3,e6,Bb5,a6,Bd3,Nc6,O-O,Qc7,Re1,Nf6,h3,h5,e5,Ng4,hxg4,hxg4,Nh2,Nxe5,Nxg4,Nxg4,Qxg4,b5,Be4,d5,Bf3,Qh2+,Kf1,e5,Qg3,Qxg3,fxg3,e4,Be2,Bd6,Kf2,Rh6,d3,Rf6+,Kg1,Bxg3,Rf1,Rxf1+,Bxf1,Bf5,Nc3,O-O-O,Bg5,f6,Bd2,Be5,a4,Rh8,axb5', 'Bd4+,Be3,Bxe3#', 'https://lichess.org/training/pVR6e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pVr9s', 'Rapid', 'dewa_kasur21', 2133, 'Hece1959', 2119, 'e4,g6,d4,Bg7,Nc3,d6,Nf3,Nf6,Be2,O-O,O-O,Nc6,Be3,Ng4,h3,Nxe3,fxe3,e5,d5,Ne7,Nd2,Bh6,Rf3,f5,Nf1,Bd7,a4,a6,b3,c6,exf5,gxf5,e4,Qb6+,Kh1,fxe4,Rxf8+,Rxf8,dxc6,Qxc6,Bc4+,Kh8,Nd5,Nxd5,Bxd5,Rxf1+', 'Qxf1,Qxd5,Qf6+,Bg7,Qd8+,Qg8,Qxd7', 'https://lichess.org/training/pVr9s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pVReo', 'Rapid', 'windy2013', 2075, 'madein2008', 1870, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,cxd4,cxd4,Bd7,O-O,Nxd4,Nxd4,Qxd4,Nc3,a6,Qe2,Qa7,Kh1,Bc5,a3,Ne7,f4,Bd4,Qh5,Ng6,Bxg6,fxg6,Qh4,Qc5,Bd2,Qe7,Qg3,O-O,Qd3,Bb6,Rad1,Rf5,Ne2,Bb5,Qf3,g5,Rfe1,gxf4,Bxf4,Bxe2,Rxe2,Raf8,g3,g5,Qb3,Bc5,Be3,Rxe5', 'Bxc5,Rxe2,Bxe7', 'https://lichess.org/training/pVReo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pVrj7', 'Classical', 'kenzaburo', 2173, 'bbb3000', 1851, 'd4,e6,c4,b6,Nc3,Bb7,e4,Bb4,Qc2,Qh4,Bd3,f5,Nf3,Qg4,O-O,Bxc3,Ne5,Qh4,bxc3,fxe4,Be2,Nf6,Be3,O-O,Qd2,Ne8,Bg5,e3,Qxe3,Qe4,Qg3,Qxe2,Be7,Rf5,Rae1,Qxa2,d5,d6,Nf3,e5,Re4,Rf4,Rxf4,exf4,Qxf4,Nd7,Qf5,Nef6,Qe6+,Kh8,Ng5,h6,Nf7+,Kh7,Qf5+,g6,Qf4,Ng8,Nd8,Nxe7', 'Qf7+,Kh8,Qxe7', 'https://lichess.org/training/pVrj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pvRk0', 'Blitz', 'Terminator05', 1677, 'Th3RedCloud', 1670, 'f4,d5,Nf3,c5,e3,Nc6,b3,b6,Bb2,Bb7,Bb5,Nf6,Ne5,Qc7,O-O,e6,Nxc6,Bxc6,Bxc6+,Qxc6,Bxf6,gxf6,Qg4,O-O-O,Nc3,Be7,a4,h5,Qh3,f5,Nb5,Kb8,Qf3,Rdg8,Rf2,h4,h3,Rg3,Qe2,Rhg8,a5,a6,Nc3,b5,Kf1,Rxh3,gxh3,d4,Qf3,Qxf3,Rxf3,dxc3,dxc3,Kc7,Rd1,Bf6,e4,Bxc3,Rxc3,Rg3,Rxg3,hxg3,Kg2,b4,Kxg3,Kc6,h4,Kb5,h5,c4,h6,cxb3,h7,bxc2,h8=Q,cxd1=Q,Qb8+,Ka4,Qe8+,Kb3,e5,Qd3+,Kh4,Qb5', 'Qxb5,axb5,a6,Kc2,a7', 'https://lichess.org/training/pvRk0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PvSon', 'Classical', 'Alexander_777', 1686, 'v00doochild', 1958, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Nf6,Nc3,d5,Nxe5,Be6,Nxc6,Qd6,Nd4,dxe4,Nxe6,Qxe6,d3,Bd6,f4,exd3', 'Re1,O-O,Rxe6', 'https://lichess.org/training/PvSon');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pVTz4', 'Blitz', 'kiwitti02', 2161, 'GM chessemyDE', 2566, 'e4,g6,d4,Bg7,Nc3,d6,Be3,a6,f3,b5,a3,Bb7,Qd2,Nd7,O-O-O,Rc8,h4,c5,dxc5,Nxc5,h5,Qa5,Nd5', 'Nb3+,Kb1,Nxd2+', 'https://lichess.org/training/pVTz4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pvV2G', 'Blitz', 'jamesalegado_05', 1948, 'Shivasso', 1964, 'e4,e5,Nf3,d5,exd5,e4,Nd4,Qxd5,Nb3,Nf6,Nc3,Qe5,d3,Bb4,d4,Qf5,Bc4,O-O,O-O,c6,Nd2,Nbd7,Ne2,Nb6,Bb3,Qg6,c3,Bd6,Ng3,Re8,Bc2,Nbd5,Re1,Bxg3,fxg3,Bg4,Bxe4,Nxe4,Qb3,Nxd2,Bxd2,Qd3,Qxb7,Qxd2,Re5,Ne3,Qxc6,Rec8,Qe4,Qxg2+,Qxg2,Nxg2,Kxg2,f6,Re7,Re8,Rc7,Re2+,Kf1,a6,d5,Rd8,c4,Rxb2,Re1,Kf8,Ree7,Bh5,Rxg7,Bg6,h4,Rxa2,h5,Be8,Rxh7,Kg8,h6,Rb8', 'Rcg7+,Kf8,Rh8#', 'https://lichess.org/training/pvV2G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pvvNh', 'Rapid', 'Oevee01', 1646, 'Pandaklam', 1659, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,exd4,Qxd4,Ba6,Nc3,Nf6,e5,dxe5,Qxe5+,Be7,Bg5,O-O,Qd4,Qxd4,Nxd4,Rad8,O-O-O,h6,Bh4,g5,Bg3,Bc5,Nxc6,Rd7,Rxd7,Nxd7,Bxc7,Rc8,Nd5,Bb7,Nde7+,Bxe7,Nxe7+,Kf8,Nxc8,Bxc8,Re1,Nf6,g3,Ng4,Bd6+,Kg7,Bc5,Nxh2,Bxa7,Nf3,Re3,Nh2,a4,Ng4,Rc3,Bd7,a5,h5,a6,Be6,Bd4+,Kh7,a7,Bd5,Rc7,Kg6,Rc8,h4,gxh4,gxh4,a8=Q,Bxa8,Rxa8,h3,Rh8,h2,f3', 'Nh6,Be3,h1=Q+', 'https://lichess.org/training/pvvNh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pVwG7', 'Rapid', 'chuckcj', 1822, 'malphas1010', 1854, 'd4,d5,h3,Nc6,Bg5,Bf5,Nf3,f6,Bh4,Nb4,Na3,Nc6,Bg3,e6,c3,Na5,Nb5,Bd6,Nxd6+,cxd6,e3,Ne7,Bb5+,Nac6,O-O,O-O,a3,a6,Ba4,b5,Bb3,Na5,Ba2,Nc4,Bxc4,dxc4,a4,d5,a5,Nc6,Nh4,Bd3,Re1,Nxa5,Ra3,Nb3', 'Rxb3,cxb3,Qxd3', 'https://lichess.org/training/pVwG7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pVwyE', 'Rapid', 'kolyandra_1969', 1832, 'Klim_Klimich', 2088, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,e3,g6,Bd3,Bg7,O-O,O-O,h3,Be6,Qb3,Na5,Qc2,h6,Ne5,Rc8,Qd2,Nc4,Qe2,a6,f4,Nd7,f5,Ndxe5,fxe6,Nxd3,exf7+,Rxf7,Rxf7,Kxf7,Qxd3,Qb6,Nxd5,Qe6,Nf4,Qf5,Qxf5+,gxf5,b3,Nd6,Ba3,Nb5,Bc5', 'Rxc5,dxc5,Bxa1', 'https://lichess.org/training/pVwyE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pvyro', 'Rapid', 'Kleopatra2019', 1935, 'abusadiq67', 1867, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Re1,e5,c3,Nf6,d4,cxd4,cxd4,Qa5,dxe5,Nxe5,Bxd7+,Nexd7,Bg5,Be7,Nc3,O-O,Bxf6,Nxf6,e5,dxe5,Rxe5,Qc7,Qe2,Rfe8,Nd5,Nxd5,Rxd5,Bf6,Qd2,Rad8,Rd1,Rxd5,Qxd5,Bxb2,Ng5,Bf6,h4,h6,Nf3,b6,Qd7,Qxd7,Rxd7,a5,Rb7,Re6,h5,Bc3,g4,Bb4,Kg2,Bc5,Ng1,Re4,Kf3,Ra4,Nh3,Rxa2,Kg3,a4,g5,hxg5,Nxg5,Rxf2', 'Rb8+,Bf8,Kxf2', 'https://lichess.org/training/Pvyro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pvZ99', 'Rapid', 'laggingrelax', 1827, 'Zoard', 1925, 'd4,Nf6,c4,e6,Nf3,d5,e3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,Bd3,dxc4,Nxc4,Nc6,a3,a6,h3,b5,Ncd2,Bb7,O-O,Nd5,Ne4,Nce7,Nc5,Rb8,Qc2,Nf6,Rac1,Ng6,Nd2,Nd7,Nxb7,Rxb7,Be4,Ra7,Nb3,Qe7,Qd3,Nb6,Rc6,Nc4,Qe2,Rd8,Nc5,Rd6,b3,Rxc6,Bxc6,Nb6,Qf3,Nf8,Rc1,Nbd7,b4,a5,e4,Nxc5,Rxc5,axb4,axb4,Qd6,Qc3,Nd7,e5,Qe7,Bxb5,Nxc5,dxc5,f6,Bc4,f5,f4,Kf7,Kh2,Qh4,Qd2,c6,b5,g5,g3,Qh5,fxg5,Ra4,Qd7+,Kg6,Qxe6+,Kxg5,Qg8+,Qg6,h4+,Kh6,Qf8+,Qg7,Qxg7+,Kxg7,Be6,cxb5,c6,Ra7,Bxf5,Rc7,Bd7,h6,e6,Kf6,Kg2,b4,Kf2', 'b3,e7,Kxe7', 'https://lichess.org/training/pvZ99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PVzwE', 'Rapid', 'Dirk52', 1791, 'sutrserpa', 1774, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Qf6,O-O,d6,c3,Bg4,Bxf7+,Kxf7,Qb3+,Kg6,Bg5,Qf7', 'Nh4+,Kxg5,Qxf7', 'https://lichess.org/training/PVzwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pw0tb', 'Blitz', 'wisdom1234', 1598, 'GodwinMathew', 1764, 'e4,c5,Nc3,Nc6,g3,e6,Bg2,Nge7,Nge2,g6,d3,Bg7,f4,d5,e5,Nf5,O-O,O-O,h3,Qb6,Kh2,Bd7,Qe1,c4,g4,Ne3,Bxe3,Qxe3,dxc4,dxc4,Rd1,Rfd8,Qh4,Be8,Bxc6,Rxd1,Rxd1,Bxc6,Nd4,Bf3,Qg3,Rd8,Nxf3,Rxd1,Nxd1,Qe2+,Nf2,Qxc2,Qh4,Qxb2,Kg3,Qxa2,Qd8+,Bf8,Ng5,h6,Nh7,Kxh7,Qxf8,Qb3+,Kh4,Qf3,Qxf7+,Kh8,Qf8+,Kh7,Qf7+,Kh8,Nh1,Qxh1,Qxg6,Qe1+,Kh5,Qh1,Qxh6+,Kg8,Qg6+,Kh8,Qe8+,Kh7,Qe7+,Kh8,Kg6,Qe4+', 'f5,Qxf5+,gxf5,c3,Qg7#', 'https://lichess.org/training/Pw0tb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pW1TW', 'Blitz', 'abdeslam1965', 1787, 'm0hamad2220', 1814, 'e4,Nf6,d3,d5,e5,Nfd7,d4,e6,Nf3,c5,c3,Qb6,Na3,Nc6,Nc2,f6,exf6,Nxf6,Bd3,cxd4,cxd4,Nb4,O-O,Nxd3,Qxd3,Bd6,Re1,O-O,a3,Bb8,b4,Qd6,h3,Ne4,Ne3,Rxf3,gxf3', 'Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/pW1TW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pW28K', 'Rapid', 'N239', 1674, 'Fluxity', 1668, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,Qb6,Bd3,Bd7,Be3,Qxb2,Nbd2,cxd4,cxd4,Bb4,O-O,Bxd2,Bxd2,Nxd4,Nxd4,Qxd4,Rb1,Rb8,Bb5,Qxe5,Bxd7+,Kxd7,Qa4+,Ke7,Bb4+,Kf6,Ba3,Qe4,Bb2+,Kg6,Qb3,Nf6,Qg3+,Qg4,Bxf6', 'Qxg3,fxg3,gxf6', 'https://lichess.org/training/pW28K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pw36S', 'Rapid', 'Svjetlan', 1949, 'themadhorse', 1819, 'e4,d6,d4,Nf6,Bd3,Nc6,c3,Bg4,Nf3,e5,d5,Ne7,h3,Bh5,Bg5,Neg8,Bb5+,Ke7,Nbd2,h6,Nh4,Bxd1', 'Nf5#', 'https://lichess.org/training/pw36S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pw3Lg', 'Bullet', 'FM charlytb', 2051, 'nenats5', 1925, 'd4,c6,c4,d5,Nf3,e6,Nbd2,f5,Ne5,Nf6,Ndf3,Bd6,g3,O-O,Bg2,Bd7,O-O,Be8,b3,Bh5,Nd3,Bxf3,exf3,Re8,c5,Bc7,f4,Ne4,Ne5,Bxe5,fxe5,Ng5,b4,a6,a4,Nf7,Rb1,Nd7,b5,axb5,axb5,Ra2,b6,Qa8,Be3,Qa4,Qxa4,Rxa4,Ra1,Rea8,Rxa4,Rxa4,Bf3,Nb8,Be2,Na6,Rb1,g5,h4,h6,Kg2,Kg7,hxg5,hxg5,Rh1,f4,gxf4,gxf4,Bxf4,Nb4,Be3,Nc2,Rh4,Ra2,Kf3', 'Ne1+,Kg3,Rxe2', 'https://lichess.org/training/pw3Lg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pw4kX', 'Rapid', 'otgonbayar11079mtag', 1710, 'Svarog47', 1635, 'e4,e5,Nf3,d6,Be2,Be7,O-O,Nc6,d3,Bg4,c4,Nd4,Nxd4,exd4,Bxg4,Nf6,Nd2,c5,Qa4+,Nd7,Bxd7+,Qxd7,Qxd7+,Kxd7,b3,g6,Nf3,Ke6,Bh6,f5,Rfe1,Bf6,exf5+,Kxf5,Re4,g5,g4+,Kg6,Re6,Rad8,Rae1,Rd7,h4,gxh4,Nxh4+,Kxh6,Rxf6+,Kg5,Rfe6,Kxh4,Kg2,Kxg4,R1e4+,Kf5,Rh6,Rg8+,Kh3,Rgg7,a4,b6,Reh4,Ke5', 'R4h5+,Rg5,Rxg5+', 'https://lichess.org/training/pw4kX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pw6WC', 'Rapid', 'Viktor1649', 1678, 'Yrrrri', 2042, 'c4,Nf6,Nc3,c5,e4,Nc6,d3,g6,h3,Bg7,Nf3,d6,Be2,O-O,O-O,Ne8,Bd2,Nc7,Qc1,Re8,Nh2,Nd4,Bg4,e6,f4,h5,Bf3,a6,Qd1,Qh4,Rb1,Rb8,Ne2,b5,b3,Bd7,Be1,Qd8,Nxd4,Bxd4+,Kh1,Bc6,g4,hxg4,Nxg4,Kg7,e5,Bxf3+,Qxf3,bxc4,dxc4,Rh8,Bf2,Bxf2,Rxf2,d5,cxd5,Qxd5,Nf6', 'Rxh3+,Kg2,Rxf3', 'https://lichess.org/training/Pw6WC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pw8Fj', 'Rapid', 'chernobyl_zone', 1689, 'Jeepitou', 1673, 'e4,c5,Nf3,Nc6,Bb5,g6,Nc3,Bg7,b3,a6,Bxc6,bxc6,Bb2,Nf6,Na4,O-O,d3,d6,O-O,Qc7,Re1,Bg4,e5,Nd7,exd6,Qxd6,Bxg7,Kxg7,Re3,Nf6,Qe1,Nd5,Re4,Bxf3,gxf3,Qf6,Rg4,Nb4,Qc1,Qxf3,Rg3,Qf5,Nc3,Nd5,Ne4,Nf4,Qe3,Rad8,Nxc5,Rd5,d4,Re8,Nxa6,e5,Nb4,Rxd4,Nxc6,Re4,Qf3,Ne2+,Kg2,Nxg3,hxg3,Qxf3+,Kxf3,Rd4,Nxd4,exd4,Rd1,Rd8,Ke4,f5+,Ke5,Re8+,Kxd4', 'Rd8+,Ke5,Rxd1', 'https://lichess.org/training/pw8Fj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pW95O', 'Rapid', 'mcpwn', 1695, 'cajohnm', 1655, 'd4,d5,c4,c6,Nc3,Bf5,e3,Nf6,Nge2,e6,g3,Ne4,Bg2,Nxc3,Nxc3,Bb4,Bd2,O-O,cxd5,cxd5,O-O,Nc6,a3,Be7,Rc1,h5,h4,Bg6,Na4,e5,dxe5,Nxe5,Bc3,Nc4,Qxd5,Qxd5,Bxd5,Nd6,Nc5,Nb5,Nxb7,Nxc3,Rxc3,Bf6,Rb3,Rab8,Nc5,Rxb3,Bxb3,Bxb2,a4,Rc8,Nb7,Ba3,Rd1,Kh7,Kg2,Rb8,Bd5,Bc2,Rd2,Bg6,f3,Bc1,Re2,Re8,e4,f5,e5,f4,e6,fxg3,Kxg3,Ba3,Kf4,Re7,Nd8,Bd6+,Kg5,Ba3,f4,Re8,Nc6,Rc8,e7,Re8,f5', 'Bc1+,Re3,Bxe3#', 'https://lichess.org/training/pW95O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pWaeS', 'Rapid', 'robhammonduk', 2032, 'DavidKShaw', 1808, 'd4,e6,c4,f5,Nc3,b6,Nf3,Bb7,Bg5,Be7,Bxe7,Qxe7,e3,Nf6,Be2,O-O,O-O,d6,Qc2,d5,cxd5,Nxd5,Ne5,Nc6,a3,Nxe5,dxe5,Rfd8,Bf3,Rab8,Rad1,c6,e4,Nxc3,Rxd8+,Rxd8,Qxc3,f4,Bg4,c5,f3,g6,Qb3,Bc8,Rd1,Rxd1+,Qxd1,h5,Bh3,g5,g3,fxg3,hxg3,Qg7,Qd6,Qd7,Kf2,Kf7,f4,g4,Bf1,Ke8,a4,Qxa4,Qd3,Qd4+,Qxd4,cxd4,Bb5+,Kd8,Ke2,Bb7,Kd3,a6,Bc4,Bc8,Kxd4,b5,Ba2,Ke7,Kc5', 'h4,gxh4,g3', 'https://lichess.org/training/pWaeS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PwAFa', 'Classical', 'MarchesedelGrullo', 1764, 'Silverred', 1845, 'Nf3,g6,d4,Bg7,c4,d6,Nc3,Nf6,e4,O-O,Be2,e5,dxe5,dxe5,O-O,c6,h3,Qe7,Qb3,Qd8,Rd1,Qb6,Qc2,Nbd7,Be3,Qc7,a3,h6,b4,a6,a4,c5,b5,b6,Nd5,Nxd5,cxd5,a5,d6,Qd8,Rd2,Bb7,Bd3,f5,Bc4+,Kh8,exf5,e4,Nd4,cxd4,Bxd4,Bxd4,Rxd4,gxf5,Qc3,Qf6,Rad1,Ne5,d7,Nxc4,Qxc4,Rg8,Rd6,Qg5,Qd4+,Kh7,g3,e3,Qxe3,Qxe3,fxe3,Rxg3+,Kf2,Rg2+,Kf1,Rag8', 'd8=Q,Rg1+,Ke2', 'https://lichess.org/training/PwAFa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pWAH0', 'Blitz', 'kvant19', 1789, 'gpanos', 1505, 'f4,e6,Nf3,Bc5,e3,d5,d4,Bb6,a4,Nf6,a5,Bxa5+,Rxa5,b6,Ra1,Nc6,Ba6,Bxa6,Rxa6,O-O,Ra1,Ne4,O-O,Qf6,Ne5,Nxe5,fxe5,Qg6,Nd2,f6,Nxe4,dxe4,Qe2,fxe5,Rxf8+,Rxf8,dxe5,Rf5,Bd2,Rxe5,Bc3,Rg5,Rxa7,h6,Rxc7,e5,Bb4,b5,Rc5,Qb6,Rc8+,Kh7,Bc3,Qb7,Re8,Qd5,b4,Rf5,Re7,Qa2,Bxe5', 'Qb1+,Qf1,Rxf1#', 'https://lichess.org/training/pWAH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PWaWJ', 'Classical', 'Achmadof', 1672, 'ngtrduongvodoi', 1852, 'd4,d5,c4,dxc4,e4,c6,Bxc4,Bd7,Qf3,e6,Nh3,Be7,e5,h6,Nf4,Bg5,h4,Bxh4,Nh5,g6,Ng7+,Kf8,Bxe6,Qe7,Bxd7,Nxd7,Rxh4,Qxh4,Ne6+,Ke7,g3,Qh5,Qa3+,Kxe6', 'Qd6+,Kf5,Qxd7+', 'https://lichess.org/training/PWaWJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PWByX', 'Rapid', 'Shakailham', 1751, 'ronniak2', 1747, 'f4,Nc6,Nf3,Nf6,e3,d5,Be2,g6,c3,Bg7,d3,O-O,a4,Nd7,d4,f6,b4,e5,Qb3,Ne7,Ba3,c6,O-O,exf4,exf4,Re8,b5,Nf5,Re1,Re3,Ra2,Nb6,Bc1,Re7,c4,dxc4,Bxc4+,Kh8,Rxe7,Qxe7,Re2,Qd7,Bb2,Nxc4,Qxc4,Nd6,Qd3,cxb5,axb5,Qxb5', 'Qxb5,Nxb5,Re8+', 'https://lichess.org/training/PWByX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwDAc', 'Rapid', 'scarface2015', 1779, 'afshin1970', 1799, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Be2,cxd4,cxd4,Nge7,O-O,Nf5,b3,Nfxd4,Nxd4,Nxd4,Be3,Nxe2+,Qxe2,Qc7,Rc1,Qxe5,Nc3,a6,Qc2,Bd6,g3,O-O', 'Bf4,Qf6,Bxd6', 'https://lichess.org/training/pwDAc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pWFfd', 'Rapid', 'dreevild', 1675, 'bascarpentero', 1675, 'e4,e5,Nf3,Nc6,Bb5,Bc5,d3,d6,O-O,Bd7,Nc3,Nf6,Bg5,h6,Bh4,O-O,Nd5,g5,Nxf6+,Qxf6,Bg3,h5,h3,Kg7,Qd2,Bxh3,Nxg5,Bg4,Bxc6,bxc6,c3,Rh8,Bh4,d5,Nf3,Qf4,Qxf4,exf4,e5,Rhg8,d4,Bb6,Bf6+,Kh6,Nh4,c5,Kh1,cxd4,f3,Bd7,cxd4,Bxd4,Rab1,Bb5,Rfd1,c5,Nf5+,Kh7,Nxd4,cxd4,Rxd4,Rg3,Rxd5,Be2,Rd2,Bc4,b3,Be6,Re1,Rag8,Bh4,R3g6,Kh2,Bf5,a3,Re6,Rd7,Bg6,b4,Rge8,Rd5,f6,Bxf6,Rxf6,exf6,Rxe1,Rd7+,Kg8,Rxa7,Re6', 'Rg7+,Kf8,Rxg6', 'https://lichess.org/training/pWFfd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwFGy', 'Rapid', 'Lili-Lili', 1882, 'scio10', 1973, 'Nf3,d5,g3,c5,Bg2,Nc6,O-O,e5,e3,e4,Ne1,Bd7,d3,Nf6,dxe4,dxe4,Nc3,Qe7,f3,Rd8,fxe4,Bg4,Nd5,Nxd5,Qxg4,Nf6,Qf3,Ne5,Qe2,Qe6,b3,Bd6,Bb2,O-O,Nf3,Qg4,h4,Qxg3,Qf2,Nxf3+,Qxf3,Qh2+,Kf2,Qxh4+,Ke2,Ng4,Rh1,Qg5,Bh3,Ne5,Qf5,Qxf5,exf5,f6,Bg2,Rd7,Bd5+,Kh8,Be6,Rdd8,Rh4,Nc6', 'Rxh7+,Kxh7,Rh1+,Bh2,Rxh2#', 'https://lichess.org/training/pwFGy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwFHG', 'Rapid', 'rishla', 1850, 'Quintas01', 1870, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,a6,O-O,c5,c3,Nc6,Nbd2,b6,a3,Nge7,b4,c4,Qc2,b5,a4,Nf5,Nb1,Be7,Na3,Qb6,Bg5,O-O,h3,h6,a5,Qc7,Bxe7,Nfxe7,Nb1,Rae8,Nbd2,f6,exf6,gxf6,Nh4,e5,dxe5,fxe5,Ng6,Rf6,Nxe7+,Rxe7,Nf3,d4,cxd4,Nxd4,Nxd4,exd4,Rad1,d3,Qc3,Qe5,Qd2,Qe2,Qc3,Ref7,Rde1,Qh5,Re8+,Kg7,Re3,Kh7,Rg3,Rg6,Re3,Qg5,Rg3,Qf6,Qxf6,Rgxf6,Re3,Rd6,Rd1,d2,Kf1,Rfd7,g3,Rd3,Ke2', 'Rxe3+,fxe3,c3', 'https://lichess.org/training/pwFHG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwi1Q', 'Rapid', 'patchchess2019', 2036, 'Oualidbaaz', 1833, 'f4,d5,Nf3,c6,e3,e6,Be2,Bd6,O-O,Ne7,c3,Nd7,h3,O-O,Qc2,e5,Ng5,g6,Bg4,Nf6,Bxc8,Nxc8,d4,e4,h4,h6,Nh3,Nh5,f5,Qxh4,Qf2,Bg3,Qe2,g5,f6,g4,Rf5,Nd6,Rxh5,Qxh5,Nd2,Qh4,Nf2,Qh2+,Kf1,h5,c4,dxc4,Nxc4,Nf5,Nd2,Bh4,Ndxe4,g3,Nh3,Nh6', 'Qxh5,Qh1+,Ng1', 'https://lichess.org/training/pwi1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwi26', 'Rapid', 'elocym1', 1708, 'Alexkos', 1720, 'd4,d5,c4,dxc4,Nc3,e6,Bf4,c6,Qa4,b5,Nxb5,cxb5,Qxb5+,Bd7,Qxc4,Qa5+,Bd2,Qb6,e3,Nf6,Nf3,Ne4,Bd3,Nxd2,Nxd2,Bb4,a3,Bxd2+,Kxd2,a6,Rhc1,Qxb2+,Bc2,O-O', 'Rcb1,Qb5,Rxb5', 'https://lichess.org/training/pwi26');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PwI9r', 'Classical', '27cevik41', 1745, 'antystas', 1797, 'c4,Nf6,d4,e6,g3,c6,Nc3,d5,c5,Be7,Nf3,O-O,b4,a6,e3,Re8,a4,Bf8,a5,Nbd7,Bd3,e5,Nh4,exd4,Ne2,dxe3,Bxe3,Ng4,Bd4,Be7,Nf5,Bf6,Bxf6,Ndxf6,Nd6,Re7,O-O,Ne8,Nd4,Nxd6,cxd6,Qxd6,Nf5,Bxf5,Bxf5,Nf6,Re1,Qxb4,Rb1,Rxe1+,Qxe1,Qxe1+,Rxe1,g6,Bh3,Rb8,Rb1,Ne8,Bg2,Nd6,Kf1,Kf8,Ke2,Re8+,Kd3,f5,Kd4,Ne4,f4,Rd8,Rxb7,c5+,Ke5,d4,Rxh7,d3,Ke6,d2', 'Rh8+,Kg7,Rxd8,d1=Q,Rxd1', 'https://lichess.org/training/PwI9r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwiLK', 'Rapid', 'super_pro12', 2201, 'konykonyi', 2102, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Ne2,Bd6,Bg5,O-O,Nd2,Bg4,f3,Bh5,O-O,Nbd7,Re1,c6,Nf1,Qc7,Neg3,Bg6,Nf5,Rae8,Qd2,b5,a4,a6,axb5,axb5,Ra6,Rxe1,Qxe1,Qc8,Ra7,Re8', 'Nxd6,Rxe1,Nxc8', 'https://lichess.org/training/pwiLK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PWj4s', 'Rapid', 'KrupenkoP', 1933, 'Belya', 1913, 'c4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,e3,e6,Nge2,Nge7,O-O,O-O,d4,cxd4,Nxd4,Nxd4,exd4,Rb8,Bf4,d6,c5,e5,dxe5,dxe5,Bg5,Qxd1,Raxd1,f6,Be3,Be6,Nd5,Nxd5,Bxd5,Bxd5,Rxd5,Rfe8,Rfd1,f5,Rd7,e4,Rc7,Be5,Rcd7,a6,Bf4,Rbc8,b4,Bf6,Rxb7,g5,Be3,h6,Rd6,Be5,Rxa6,f4,gxf4,gxf4,Bd2,Bd4,Bxf4,Rf8,Be3,Bc3,Rg6+,Kh8,Rxh6+,Kg8,Bd2,Bxd2,Rg6+,Kh8,c6,e3,fxe3,Bxe3+,Kg2,Rf2+,Kg3,Rf1,Kg2', 'Rg1+,Kf3,Rxg6', 'https://lichess.org/training/PWj4s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pWJcv', 'Rapid', 'Egyptianmorvy', 2177, 'ChessLab_Reloaded', 2255, 'd4,Nf6,c4,b6,f3,Bb7,e4,e6,Nc3,d6,Bd3,Nbd7,Be3,Be7,Nge2,O-O,O-O,c5,d5,e5,a3,g5,Bxg5,Nxd5,exd5,Bxg5,f4,Bh6,Qc2,exf4,Nxf4,Ne5,Bxh7+,Kh8,Ne4,Qh4,Nxd6', 'Bxf4,Rxf4,Qxf4', 'https://lichess.org/training/pWJcv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PWJsW', 'Blitz', 'sinan1905', 1811, 'gopir', 1828, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Bc5,O-O,d6,h3,O-O,c3,Bb7,Re1,Qe7,Be3,Bxe3,Rxe3,Na5,Bc2,c5,Nbd2,Rad8,Nf1,Nc6,a4,bxa4,Bxa4,Ne8,Re1,f5,Ne3,f4,Nd5,Qf7,Ng5,Qg6,Qg4,Kh8,Ne6,Nf6,Nxf8,Qxg4,hxg4,Rxf8,Nxf6,gxf6,Bxc6,Bxc6,Rxa6,Rc8,Rea1,Kg8,f3,Kg7,Kh2,Kg6,Kh3,h5,g3,hxg4+,Kxg4', 'Bd7+,Kh4,Rh8#', 'https://lichess.org/training/PWJsW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PwkzE', 'Blitz', 'INN36', 1785, 'pipirim', 1749, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,Bg4,c3,Be7,Be3,exd4,cxd4,Nf6,Nc3,O-O,O-O,h6,Re1,a6,Bb3,b5,a3,Re8,h3,Bh5,Rc1,Na5,Ba2,Nc4,Bxc4,bxc4,Qa4,Bg6,Qxc4,Nxe4,Nxe4,Bxe4,b4,Bxf3,gxf3,Bg5,Qxc7,Qf6,Bxg5,Qxg5+,Kf1,Qf4,Qc3,Qh2,Re3,Qxh3+,Ke2,Rxe3+,fxe3,Qg2+,Kd3,Qxf3,Qc7,Qf5+,Ke2,Re8,Qxd6,Qg4+,Kd3,Qf3,Qf4,Qd5,Rc3,Qa2,e4,Qb1+,Kd2,Rxe4,Rc8+,Kh7', 'Qf5+,g6,Qxf7#', 'https://lichess.org/training/PwkzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PwLZn', 'Rapid', 'Elena-happy', 1790, 'williebob', 1730, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,c6,Nf3,Be7,cxd5,cxd5,e3,Qa5,a3,Nc6,b4,Qc7,Qa4,a6,b5,Na5', 'b6+,Qc6,Qxa5', 'https://lichess.org/training/PwLZn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PwNpx', 'Rapid', 'YuriyGrytsiv_PUCP', 2310, 'CM HashemElnami', 2264, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be2,O-O,Be3,c6,h3,Nbd7,Qd2,e5,O-O-O,Qa5,dxe5,dxe5,Kb1,b5,Qd6,b4,Qxc6,bxc3,Qxa8,Qb4,b3,Ba6,Qxa7,Bxe2,Rxd7,Nxd7,Qxd7,Bxf3', 'gxf3,Qa3,Bc1', 'https://lichess.org/training/PwNpx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwo2o', 'Rapid', 'Velja111', 1647, 'shivraj18', 1614, 'c4,Nf6,e3,c5,d4,e6,Nf3,Nc6,Nc3,d5,cxd5,exd5,Bb5,a6,Ba4,b5,Bc2,c4,b3,b4,Ne2,c3,a3,Bb7,axb4,Bxb4,O-O,a5,Qe1,Qe7,Nxc3,Ba6,Bd2,Bxf1,Qxf1,O-O,Qe1,Ne4,Nxe4,dxe4,Bxb4,Nxb4,Qd1,exf3,Bf5,fxg2,Qf3,g6,Bh3,Nc2,Rc1,Na3,Bxg2,Rab8,e4,Qb4,d5,Qxb3,Rc3,Qb1+,Bf1,Nc2,Kg2,Nd4,Qe3,Rb4,Bd3,Qb2,Rc4,Rxc4,Bxc4,a4,d6,a3,d7,a2,Bxa2,Rd8,Bxf7+,Kxf7,Qf4+,Ke7,Qc7,Rxd7,Qc5+,Rd6,e5,Qc2,Qxd6+,Kf7,Qxd4,Qf5,Qd5+,Qe6,Qd4,Kg7,f4,Kh6,Qe4,Qg4+,Kh1,Kh5,e6,Kh4,e7,Kh3,e8=Q', 'Qd1+,Qe1,Qf3+,Kg1,Qg2#', 'https://lichess.org/training/pwo2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PwO3K', 'Rapid', 'Chess4Pleasure', 1766, 'yuiopu27', 1788, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Ne2,Ne7,Bf4,Bf5,Bxd6,Qxd6,O-O,c6,Re1,Nd7,Nec3,Bxd3,Qxd3,O-O-O,Nd2,h5,Qg3,Qxg3,fxg3,Nf5,Nf3,f6,Rad1,g5,Re6,g4,Ne1,h4,gxh4,Rxh4,g3,Rh3,Ng2,Rdh8,Nh4,Nxh4,gxh4,R3xh4,Rd2,f5,Rf2,R8h5,Ne2,Kc7,Ng3,Rxh2', 'Rxh2,Rxh2,Kxh2', 'https://lichess.org/training/PwO3K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwoIY', 'Rapid', 'lari_ka', 2259, 'HalloBallo', 2207, 'h3,d5,e3,e5,d4,Nd7,Nf3,e4,Ng1,Bd6,b3,a5,a4,f5,g3,Ngf6,Ba3,Qe7,Bxd6,Qxd6,h4,O-O,Nh3,Ng4,Qd2,c6,Nc3,Ndf6,Ne2,Bd7,Nef4,Be8,Be2,h6,c4,Bf7,Kf1,Rfd8,c5,Qd7,Kg2,Rdb8,b4,Nh7,h5,axb4,Qxb4,Nhf6,Ng1,Qe8,Bxg4,fxg4,Nge2,Bxh5,Nc3,Bf7,a5,Nh7,Rhb1,g5,Nfe2,h5,Na4,h4,Qb6,Qe7,Rb2,Qf6,Ng1,Kg7,Qc7,h3+,Kh2,Rc8,Qb6,Nf8,Raa2,Ng6', 'Qxb7,Qd8,Nb6', 'https://lichess.org/training/pwoIY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PwoTs', 'Rapid', 'Beater19', 1813, 'Juanbzam', 1818, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Be7,O-O,Nf6,e5,dxe5,Nxe5,Qxd1,Rxd1,O-O,Nc3,Na6,Bg5,h6,Bh4,g5,Nd7,gxh4,Nxf8,Kxf8,Nd5,Nxd5,Rxd5,Nb4,Rd7,Nxc2,Rad1,b6,a3,Nd4,Re1,Bf6,Re4,Ne6,Kf1,Bxb2,Rxh4,Bg7,Rh3,a5,Rb7,c4,Rxb6,c3,Rc6,Re8,Rh5,Nf4,Rxa5,Nd3,g3,Nb2,Ra7,Bd4,Rd7,Bg7,Rcc7,Re6', 'Rxf7+,Ke8,Rxg7', 'https://lichess.org/training/PwoTs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pWOud', 'Rapid', 'borgerasm', 1971, 'gameofclowns', 1738, 'e4,b5,Bxb5,a6,Bc4,c6,d4,d5,exd5,cxd5,Bb3,Nc6,Nf3,Nf6,h3,Na5,O-O,Nxb3,axb3,e6,c4,Bb7,Bg5,Be7,Nc3,O-O,Re1,Qb6,Na4,Qb4,Nb6,Qxb6,c5,Qc6,Ne5,Qb5,Qc2,Bd6,c6,Bxe5,cxb7,Qxb7,dxe5,Ne4,Bh4,Rfc8,Qd3,g5,Bg3,Nxg3,Qxg3,h6,h4,Qe7,f4,Kh7,fxg5,Rg8,Qd3+,Kh8,gxh6,Qxh4,Qf3,Qxh6,Ra4,Rg6,Kf2,Qd2+,Re2,Qg5,g3,Kg7,Rf4,f5,exf6+,Rxf6,Rxe6,Rxf4,Qxf4', 'Rf8,Qxf8+,Kxf8', 'https://lichess.org/training/pWOud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PWp8e', 'Bullet', 'Jamesbond10', 1617, 'LuanCaius', 1624, 'e4,c5,g3,Nc6,Bg2,d6,Ne2,Nf6,O-O,Bd7,c3,g6,d4,cxd4,cxd4,e5,dxe5,dxe5,Nec3,Bg7,Bg5,O-O,Qf3,Nd4,Qd1,Rc8,Nd5,Be6,Nbc3,h6,Bxf6,Bxf6,Nxf6+,Qxf6,f4,h5,fxe5,Qxe5,Qd3,Rfd8,Rad1,Nc6,Nd5,Qxb2,Nf6+,Kg7,Qf3,Rxd1,Rxd1,Ne5,Qf1,Rc2,Nd5,Nc4,Rb1,Qxa2,Qf6+,Kg8,Ne7+,Kf8', 'Nxg6+,Kg8,Qh8#', 'https://lichess.org/training/PWp8e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pWpbB', 'Rapid', 'josejuancaselli', 1647, 'DMAS', 1605, 'e4,e5,f4,exf4,Nf3,Qf6,Be2,Bc5,c3,Nc6,d4,Bb6,O-O,Nge7,Nbd2,d6,Nc4,Bg4,Nxb6,cxb6,Bb5,O-O-O,d5,Ne5,Be2,Qg6,Nxe5,Bxe2,Nxg6,Bxd1,Nxh8,Bh5,Nxf7,Bxf7,Rxf4,Bg6,Bd2,Ng8,Raf1,Nf6,e5,dxe5,Rc4+,Kb8,Bg5,Rxd5,Bxf6,gxf6,Rxf6,Rd8,Rf2', 'Rd1+,Rf1,Rxf1+,Kxf1,Bd3+,Kf2,Bxc4', 'https://lichess.org/training/pWpbB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PwPcm', 'Blitz', 'FM DamageDoers', 2630, 'friendlynoob', 2497, 'd4,Nf6,Nf3,d5,c4,e6,cxd5,exd5,Nc3,c6,Bg5,h6,Bh4,Bf5,e3,Nbd7,Bd3,Bxd3,Qxd3,Bd6,O-O,O-O,Rab1,Re8,b4,a6,a4,b5,a5,Qe7,Na2,Qe6,Rfc1,Ne4,Bg3,Rac8,Nd2,Bxg3,hxg3,Nd6,Nc3,Nc4,Re1,f5,g4,fxg4,e4,Qg6,Nxc4,bxc4,Qd2,Nf6,e5,Nd7,Re2,Rb8,Ree1,Nf8,Na4,Ne6,Nc5,Nxc5,dxc5,Rxe5,Qf4,Rbe8,Rxe5,Qxb1+,Kh2,Rxe5,Qxe5,Qe4,Qxe4,dxe4,b5,c3,bxa6,c2,a7,c1=Q,a8=Q+,Kh7,Qxc6,Qf4+,Kg1,Qc1+,Kh2,Qf4+,Kg1,e3,fxe3,Qxe3+,Kf1,g3,Qf3,Qc1+,Ke2,Qc2+,Ke1,Qxc5,Qd3+,Kg8,a6,Qf2+,Kd1,Qxg2,Qc4+,Kh7,Qd3+,Kh8,Qd8+,Kh7,Qd3+,Kg8,Qd8+,Kf7,Qd7+,Kf6,Qd6+,Kg5,Qc5+,Kf4,a7,Qf3+,Kc2,Qf2+', 'Qxf2+,gxf2,a8=Q,f1=Q,Qf8+,Ke5,Qxf1', 'https://lichess.org/training/PwPcm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwPcR', 'Rapid', 'pd2006', 1643, 'rakeshmadnani', 1697, 'e4,Nc6,Nf3,f5,exf5,d5,d4,Bxf5,Be2,e6,O-O,Nf6,a3,Bd6,Nc3,O-O,Bg5,h6,Bh4,Be7,h3,Be4,Nxe4,dxe4,Ne5,Nxd4,Ng6,Nxe2+,Qxe2,Qe8,Nxf8,Qxf8,Bxf6,Qxf6,c3,Qe5,Rfe1,Bd6,g3,Bc5,Qxe4', 'Qxg3+,Kh1,Qxh3+', 'https://lichess.org/training/pwPcR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PWPDa', 'Rapid', 'cornesteyn', 1657, 'superman_100', 2398, 'd4,Nf6,e3,g6,f4,Bg7,Nf3,O-O,Bd3,d6,O-O,Nc6,c3,e5,fxe5,dxe5,Nxe5,Nxe5,dxe5,Ng4,h3,Nxe5,Bc2,Be6,e4,Bc4,Re1,Qxd1,Rxd1,Rad8,Rxd8,Rxd8,Nd2,Nd3,Nxc4,Nc5,Bg5,f6,Bf4,Ne6,Bg3,b5,Ne3,c6,Re1,Kf7,Ng4,h5,Nf2,Rd2,Bb3,Ke7,e5,f5,Bh2,Nc5,g4,hxg4,hxg4,Rxb2,gxf5,gxf5,Bg8,Bh6,Bh7,f4,Ne4,Nd3,Rd1,Nxe5,Rd6,Nf3+,Kf1,Nxh2+,Kg1,Bg7,Rxc6,Ng4,Rc7+,Kf8,Ng5,Bh6', 'Ne6+,Ke8,Bg6#', 'https://lichess.org/training/PWPDa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pWpet', 'Rapid', 'Nyesiga', 1701, 'King_Of_Vica', 1955, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Nf6,Re1,d6,Bb5,Be7,Nc3,O-O,Bxc6,bxc6,d4,cxd4,Nxd4,Bb7,Bg5,h6,Bxf6,Bxf6,Nf3,Bxc3,bxc3,d5,exd5,cxd5,Nd4,Rc8,Rb1,Ba6,Qd2,Qc7,Re3,Rfd8,Rg3,Qe5,Qxh6', 'Qxg3,hxg3,gxh6', 'https://lichess.org/training/pWpet');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PWPus', 'Classical', 'hrjoglar', 1798, 'edwardsme96', 1840, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Qxe7+,Bxe7,Bg5,O-O,Nc3,Be6,O-O-O,Re8,Ne4,Bxa2,b3,d5,Nxf6+,gxf6,Bh6,Ba3+,Kd2,Nc6,Ra1,Nb4,c3,Bb2,Rd1,Bxb3,cxb4,Bxd1,Kxd1,Bc3,Bd2,Bxd2,Kxd2,Re7,Nd4,c6,Be2,b5,Nxc6,Rc7,Na5,Rac8,d4,Rc2+,Ke3,R8c3+,Bd3,Ra2,Rd1,Raa3,Nb7,Kf8,Nd6,Ke7', 'Nxb5,Rxd3+,Rxd3', 'https://lichess.org/training/PWPus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pWQPq', 'Rapid', 'Medo007', 2107, 'RealSavage13', 1987, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Nge2,Bb4,Ng3,c5,Bg5,Qd6,Bd3,cxd4,a3,dxc3,axb4,cxb2,Rb1,Qxb4+,Bd2,Qd6,O-O,O-O,Rxb2,Re8,Bb5,Nc6,Bb4,Nxb4,Bxe8,Nxe8,Re1,Bd7,Qd4,Nc6,Qh4,Nf6,Rxb7,Rb8,Reb1,Rxb7,Rxb7,Qa3,h3,Qc1+,Kh2,Qxc2,Nh5,Nxh5', 'Rb8+,Nxb8,Qd8+,Be8,Qxe8#', 'https://lichess.org/training/pWQPq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwqxp', 'Blitz', 'Dobby80', 1927, 'depresa', 2055, 'd4,c6,Bg5,d5,Nc3,Bf5,e3,Qb6,Na4,Qa5+,c3,e6,b4,Bxb4,cxb4,Qxb4+,Ke2,Nd7,Nc5,Nxc5,dxc5,Qxc5,Qd4,Qc2+,Kf3,h6,Bh4,g5,Bg3,h5,Be5,Be4+,Kg3,h4+,Kg4,Qxf2,Bxh8,Qf5+,Kh5,Ne7,Qf6,Qh7+,Kg4,Nf5,Re1,Kd7,Nh3,Nh6+,Kxg5,Rg8+,Kf4,Rxh8,Ng5,Qg8,Nxe4', 'Qg4+,Ke5,Qxe4#', 'https://lichess.org/training/pwqxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PWVE2', 'Blitz', 'dmasu10', 1587, 'zenica2003', 1898, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Be6,Bxe6,fxe6,d4,exd4,cxd4,h6,O-O,Qe7,Nc3,O-O-O,a3,g5,h3,Nf6,Qe2,g4,hxg4,Nxg4,Nh2,Nxh2,Kxh2,Qh4+,Kg1,Be7,Bf4,e5,Bg3,Qg5,d5,Nd4,Qd1,h5,Ne2,Nxe2+,Qxe2,h4,f4,exf4,Bxf4,Qg6,Rf3,h3,Raf1,Rdg8,R1f2,Bh4,g3,Qg4,Kh2,Rf8,Qe3,Bf6,Qd3,Be7,e5,Rf7,exd6,Bxd6,Be5', 'Rxf3,Qxf3,Qxf3,Rxf3,Bxe5', 'https://lichess.org/training/PWVE2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwVhv', 'Rapid', 'firetree', 2139, 'Korons20', 2117, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,f4,c5,dxc5,Qa5+,Bd2,Qxc5,b4,Qb6,a3,Nc6,Nc3,Nh6,Nf3,Be7,Na4,Qc7,Be3,Nf5,Bc5,Rc8,O-O,b6,Bxe7,Ncxe7,Qb5+,Qc6,Qxc6+,Rxc6,c3,Rc4,Nd2,Rc7,Rf3,h5,Nb2,Nc6,Nb3,Ke7,a4,Rhc8,a5,Nb8,axb6,axb6,Nd1,Rc4,Ra7+,R8c7,Ra8,Nd7,Rh8,g6,Rh7,Kf8,Rh8+,Ke7,Nd2,Rc8,Nxc4,Rxh8,Nce3,Nxe3,Nxe3,Rc8,Nc2,Nb8,Nd4,Nc6,Nb5,Nd8,Nd6,Rc7,h3,Nb7,Nb5,Rc4,g4,f6,gxh5,gxh5,Kf2,Re4,exf6+,Kxf6,Nd4,Nd6,Rg3,Rxf4+,Ke2,Ne4,Rg8,Rf2+,Kd3,Rd2+,Ke3,Rh2,Rf8+,Ke5', 'Nf3+,Kd6,Nxh2', 'https://lichess.org/training/pwVhv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pwWKs', 'Blitz', 'Varreplay', 2054, 'A72342287LUZMARINA', 2035, 'd4,c6,c4,d5,Nc3,Nf6,Nf3,Bf5,h3,e6,Bg5,Be7,e3,O-O,a3,Ne4,Bxe7,Qxe7,c5,Nxc3,bxc3,Nd7,Bd3,Bxd3,Qxd3,Nf6,Ne5,Nd7,f4,f6,Nxd7,Qxd7,O-O,Qe7,c4,dxc4,Qxc4,Kh8,Rab1,Rab8,Rb2,e5,fxe5,fxe5,Rxf8+,Rxf8,Qd3,exd4,exd4', 'Qe1+,Kh2,Rf1,Qxf1,Qxf1', 'https://lichess.org/training/pwWKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pWx0C', 'Rapid', 'NovalAspani', 1921, 'Yansk', 1932, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Nf6,Be2,Be7,O-O,O-O,Kh1,d6,f4,a6,a4,Bd7,Nf3,Qc7,b3,Rfd8,Bb2,Rac8,Rc1,Qb8,Ng5,h6,Nf3,Ng4,Qd2,Qa7,Bd3,Nb4,h3,Nf6,e5,dxe5,Nxe5,Be8,Qe2,Nxd3,Nxd3,Bb4,Nxb4,Qb6,Nd3,Bc6,Ne5,Be8,f5,Rd6,Nc4,Rxc4,Qxc4,Rc6,Qd3,Qc7,fxe6,Rxe6,Nd5,Nxd5,Qxd5,Bc6,Qd4,Rg6,Rg1,Qg3,Qd3', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/pWx0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pWyHL', 'Blitz', 'NM Pliukha_Mikhail', 2540, 'IM Cerdifixer', 2503, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Nf3,Nc6,Bc4,e6,O-O,d6,exd6,Bxd6,Nxd4,O-O,Nxc6,bxc6,Nd2,a5,Ne4,Bxh2+,Kxh2,Qh4+,Kg1,Qxe4,Bd3,Qh4,Qf3,f5,Re1,Bd7,g3,Qh3,Bf1,Qg4,Qxg4,fxg4,Bg5,a4,Rad1,Rf7,c4,Nf6,Rd4,Rb8,Red1,c5,Rd6,Ne4,Rxd7,Rxd7,Rxd7,Nxg5,Be2,Nh3+,Kg2,Rxb2,Bxg4,Nxf2', 'Bxe6+,Kf8,Rf7+,Ke8,Rxf2', 'https://lichess.org/training/pWyHL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pWz4q', 'Blitz', 'AdelHolmes', 1565, 'bcm5059', 1574, 'd4,c5,d5,Nf6,c4,e6,Nc3,exd5,cxd5,d6,e4,Bg4,Nf3,Bxf3,Qxf3,Be7,Be2,O-O,O-O,Nbd7,Qg3,Ne5,Bh6,Ng6,Bd2,a6,a3,b5,f4,b4,axb4,cxb4,Nd1,Nxe4,Qe3,Nxd2,Qxd2,Qb6+,Kh1,Bf6,Ra4,Rab8,Rxa6,Qc5,b3,Rfe8,Nb2,Bxb2,Qxb2,Qe3,Bc4,Nxf4,Rxd6,Rbc8,h3,Qe4,Ra6,Rxc4,bxc4,Qxc4,Raa1,Nd3,Qd2,Qxd5,Rfd1,Re1+,Kh2', 'Qe5+,g3,Re2+,Qxe2,Qxe2+', 'https://lichess.org/training/pWz4q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pX1Ed', 'Rapid', 'hassotasso', 2058, 'rapgame', 2034, 'd4,Nf6,c4,e6,Nc3,b6,Nf3,Bb7,e3,Ne4,Be2,f5,O-O,d6,Qc2,Nd7,b4,a5,b5,Nxc3,Qxc3,Nf6,Nd2,Ne4,Nxe4,fxe4,a4,Be7,Bb2,O-O,Qd2,d5,Bg4,Rf6,Rac1,Qf8,cxd5,exd5,Rxc7,Rb8,Rfc1,Bd6,R7c2,g6,Bd7,Qf7,Bc6,Bc8,Qd1,Be6,Rd2,h5,Qb3,Rf8,Rf1,Qc7,g3,Rf5,Ba3,Bxa3,Qxa3,h4,Rc2,hxg3,hxg3,Qh7,Qd6,Bf7,Bd7,Rh5,g4', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/pX1Ed');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PX1qR', 'Rapid', 'Uchiha_Madara_4ever', 1743, 'perignat', 1729, 'e4,c5,Nc3,Nc6,g3,d6,Bg2,a6,Nge2,Nf6,O-O,g6,h3,Bg7,d3,O-O,Be3,e5,Qd2,Be6,Bg5,Qd7,Kh2,Nd4,Rad1,b5,Nxd4,cxd4,Ne2,Rac8,a3,Qc7,c3,dxc3,Nxc3,Bb3,Rc1,Qd7,h4,Qe8,Bxf6,Bxf6,Nd5,Bxd5,exd5,Bg7,Bh3,Rxc1,Rxc1,f5,Rc6,Qd7,Rxa6,Rb8,Qb4,Bf8,a4,Qb7,axb5', 'Qxa6,bxa6,Rxb4', 'https://lichess.org/training/PX1qR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('px2uh', 'Rapid', 'menagerie', 1820, 'vijayvikas', 1812, 'd4,d5,Bf4,Nc6,e3,g6,Nc3,Bg7,Qd2,Nf6,Be2,Bf5,O-O-O,Nb4,a3,Nxc2,e4,Bxe4', 'Nxe4,Nxe4,Qxc2', 'https://lichess.org/training/px2uh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PX3Cj', 'Rapid', 'ChesapeakReaper', 1888, 'IgorBel_3Category', 2034, 'd4,Nf6,c4,d5,Nc3,e6,a3,dxc4,e4,Nc6,Nf3,Be7,Bxc4,O-O,O-O,b6,Be3,Na5,Ba2,Bb7,Qc2,Ng4,Rad1,Bd6,Bb1,Nc4,e5,Ncxe3', 'Qxh7#', 'https://lichess.org/training/PX3Cj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Px4qO', 'Blitz', 'DNGC67', 1565, 'blinco', 1523, 'd4,b6,c4,Nf6,Nc3,d5,Bg5,dxc4,Bxf6,exf6,e4,Bb7,Bxc4,Bb4,Qc2,Bxc3+,bxc3,Nd7,Nf3,O-O,O-O,Re8,Rae1,a6,Nd2,b5,Bb3,f5,exf5,Rxe1,Rxe1,Nf6,Nf3,Bd5,Bxd5,Nxd5,Re5,Nf6,Ng5,h6,Ne4,Ng4,Rc5,Nf6,Nxf6+,Qxf6,Rxc7,Re8,g3,Re1+,Kg2,Qd6,Rc8+,Kh7,f6+,g6,Qd2,Qd5+,f3,Re6,Qf4,Re2+,Kh3,Rxa2,Rh8+,Kxh8', 'Qxh6+,Kg8,Qg7#', 'https://lichess.org/training/Px4qO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Px4zb', 'Blitz', 'Jaudrius', 2213, 'LM TonyRo', 2324, 'd4,e6,e4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,O-O,O-O,c3,Nbc6,Qc2,h6,Re1,Bg4,Ne5,Bh5,Nd2,Bxe5,dxe5,Bg6,Nf3,Re8,Nd4,Bxd3,Qxd3,Qd7,f4,Nxd4,cxd4,Qf5,Qb3,b6,Bd2,Ng6,g3,h5,Qxd5,Rad8,Qc4,h4,Bc3,hxg3,hxg3,Qh3,Kf2,Qh2+,Kf3,Qh3,Rg1,Nh4+,Ke4,Nf5,Qd3,f6,Qc4+,Kh7,Rh1', 'Nxg3+,Kd3,Nxh1+', 'https://lichess.org/training/Px4zb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('px5Gk', 'Rapid', 'aruo', 2074, 'VitaliyDoroshenko', 2036, 'd4,e6,c4,d5,Nf3,Nf6,Bg5,Bb4+,Nbd2,c5,a3,Ba5,Qa4+,Bd7,Bxf6,Bxa4,Bxd8,Bxd8,dxc5,O-O,b4,a6,e3,Bf6,Ra2,Nc6,cxd5,exd5,Bd3,Ne5,Nxe5,Bxe5,O-O,Rad8,Nf3,Bf6,Rc1,Bc6,Nd4,Bxd4,exd4,Rfe8,Re2,Rxe2,Bxe2,Re8,Kf1,Kf8,Re1,Bb5,Bxb5,axb5,Re5,Rxe5,dxe5,Ke7,Ke2,Ke6,f4,d4,Kd3,Kd5,g4,h6,h3,g6,h4,h5,gxh5', 'gxh5,Kd2,Ke4,a4,bxa4,e6,fxe6', 'https://lichess.org/training/px5Gk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('px7lM', 'Rapid', 'Cheskiller', 2001, 'JetLupogan', 2043, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,Ngf3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,Be7,dxc5,Nxc5,Re1,O-O,Nf1,a5,a4,Re8,Bf4,Nce4,Ng3,Bc5,Be3,Bxe3,Rxe3,Nxf2,Rxe8+,Qxe8,Kxf2', 'Ng4+,Kf1,Ne3+', 'https://lichess.org/training/px7lM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Px9jS', 'Rapid', 'harrisonfold', 1748, 'Dimus', 1810, 'd4,d5,c4,Nf6,Nc3,g6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,Bg7,e5,cxd4,cxd4,Bg4,Be2,Nc6,Be3,e6,O-O,O-O,h3,Bxf3,Bxf3,Rc8,Rb1,b6,Rc1,Ne7,Qa4,Rxc1,Rxc1,a5,g4,Nd5,Bxd5,Qxd5,Qb3,Qxb3,axb3,Rb8,Kg2,Bf8,Kg3,Bb4,h4,Kf8,h5,Ke8,Kh4,Kd7,Kg5,Bf8,Kf6,Ke8,Rc7,b5,Rxf7,a4,bxa4,bxa4,Kxe6', 'Rb6+,Kd5,Kxf7', 'https://lichess.org/training/Px9jS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pxBy2', 'Classical', 'alirreeeza', 1908, 'Daywalker93', 1807, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,b6,e3,Bb7,f3,c5,a3,Bxc3+,Qxc3,cxd4,exd4,h6,Bd3,O-O,Bd2,d6,Ne2,d5,cxd5,Nxd5,Qc2,Nc6,O-O-O,Rc8,Nc3,Nxd4,Qa4,a5,Qxd4,f6,Qg4,f5,Qg3,Nxc3,Bxc3,Qg5+,Qxg5,hxg5,Kb1,Kh7,h4,Kg6,h5+,Kh6,g4,Bxf3,gxf5,Bxd1,Rxd1,exf5,Rf1,g6,Re1,Rce8,Rh1,gxh5,Ka2,f4,Rf1,g4,Bd2,Kg5,Bh7,g3,Rg1,h4,Kb3,h3,Rxg3+,Kh4,Rg1,f3,Bg5+,Kh5,Bc1,f2', 'Bg6+,Kh4,Bg5#', 'https://lichess.org/training/pxBy2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PXccg', 'Blitz', 'FM Danirod', 2432, 'bdfy023', 2315, 'e4,e6,d4,d5,Nd2,Nf6,Bd3,c5,e5,Nfd7,c3,Nc6,Ne2,cxd4,cxd4,Qb6,Nf3,f6,O-O,fxe5,dxe5,Ndxe5,Nxe5,Nxe5,Nf4,Nxd3,Qh5+,g6,Nxg6,hxg6,Qxh8,Nxc1,Raxc1,Qd6,Rfe1,Qe7,g3,Qg7,Qh4,Bd6,Qg4,Qf6', 'Rxc8+,Rxc8,Rxe6+', 'https://lichess.org/training/PXccg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pXdZZ', 'Rapid', 'yevseyenkov', 1842, 'ArtIV', 1857, 'e4,c6,Nf3,d5,exd5,cxd5,d4,a6,c4,dxc4,Bxc4,h6,O-O,e6,d5,Nf6,dxe6,Qxd1', 'exf7+,Ke7,Rxd1', 'https://lichess.org/training/pXdZZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PXE7q', 'Blitz', 'IM liordis31', 2492, 'NM manneredmonkey', 2577, 'Nf3,d6,d4,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,b3,e5,dxe5,Ng4,Bb2,Nc6,c4,a5,Nc3,Ngxe5,Nxe5,Bxe5,Qd2,Bg4,h3,Bd7,Nd5,Re8,f4,Bg7,g4,Nb4,Nxb4,axb4,Bxg7,Kxg7,Bxb7,Rb8,Bg2,f5,g5,Qe7,Qd4+,Kg8,Bd5+,Be6,Bc6,Bd7,Bd5+,Be6,Bf3,c5,Qd2,Bf7,Kf2,Rbd8,Rad1,Qa7,Rfe1,Re7,Kg3,Qd7,Qc1,Qe8,a4,bxa3,Qxa3,Re3,Qb2,Qe7,Qd2,d5,cxd5,Rxd5,Qxd5', 'Bxd5,Rxd5,Rxf3+,exf3,Qxe1+', 'https://lichess.org/training/PXE7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pxFA6', 'Rapid', 'Bhargav_10', 1860, 'I_bucketb0t_I', 1902, 'Nf3,Nf6,d4,d5,c4,dxc4,Nc3,Nc6,e4,Bg4,d5,Ne5,Qa4+,Ned7,Ne5,g6,Bxc4,Bg7,O-O,O-O,Nxd7,Bxd7,Qc2,c6,Bg5,cxd5,Nxd5,Bc6,Rad1,e6', 'Nxf6+,Bxf6,Rxd8', 'https://lichess.org/training/pxFA6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pxgQu', 'Rapid', 'diediet', 1625, 'tm1350', 1654, 'e4,e5,Bc4,Nf6,d4,Nxe4,Nf3,d6,dxe5,Bg4,O-O,Nc6,Re1,dxe5,Qxd8+,Rxd8,Rxe4,Bxf3,gxf3,Rd1+,Kg2,Rxc1,Bd5,Rxc2,Nc3,Be7,Bxc6+,bxc6,Rxe5,Rxb2', 'Rae1,Kd8,Rxe7', 'https://lichess.org/training/pxgQu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PXHi0', 'Rapid', 'Deathstardf', 1630, 'JNchess69', 1635, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,Nf3,Nf6,e3,Bf5,d4,e6,Bd3,Bg6,Bxg6,hxg6,O-O,Nc6,b3,Bd6,g3,Ng4,Ne5,Ncxe5,dxe5,Bxe5,Qxg4,Bxc3,Rb1,Qf6,Qa4+,c6,Qa3,a6,Rd1,Rd8,Bb2,Rxd1+,Rxd1,Bxb2', 'Qd6,Bd4,Rxd4', 'https://lichess.org/training/PXHi0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PXiGl', 'Rapid', 'halir', 2030, 'omshiva', 1841, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,d6,Bc4,g6,Ng3,Be6,Bd3,Nf6,Bg5,h6,Bd2,Bg7,Nc3,O-O,O-O,d5,f4,exf4,Bxf4,Qb6+,Kh1,Qxb2,Qd2,Nxe4,Ncxe4,dxe4,Nxe4,g5,Bxg5,hxg5,Qxg5,Qe5', 'Nf6+,Qxf6,Rxf6', 'https://lichess.org/training/PXiGl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pXkOo', 'Rapid', 'fdaniil', 1838, 'gsp4706', 1828, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,Nge7,Bc4,O-O,O-O,Ne5,Bb3,d6,Nd2,Bg4,f3,Bh5,Nc4,Nxc4,Bxc4,Nc6,Qd2,Rae8,Nxc6,bxc6,Bxc5,dxc5,Rad1,Rd8,Qc2,Qf4,Rxd8,Rxd8,Qb3,Qe3+,Kh1,g5,Qc2,Rd2,Qc1,g4,fxg4,Bg6,Rd1,Rxd1+,Qxd1,Bxe4,h3', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/pXkOo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PxloL', 'Blitz', 'NM TreasureChess777', 2353, 'limosity', 2324, 'Nf3,d5,b3,Nc6,Bb2,Bg4,d4,Nf6,Nbd2,e6,a3,Bd6,e3,e5,Be2,e4,Ne5,Bxe2,Qxe2,O-O,Nxc6,bxc6,g4,Qd7,h3,Ne8,c4,f5,c5,Be7,O-O-O,f4,f3,Bg5,exf4,Rxf4,Kb1,Nf6,h4,exf3,Qd3,Ne4,hxg5,Qxg4,Rdg1,Qf5,Nxe4,Rxe4,Ka2,f2,Rf1,Rae8,Qh3,Qg6,Rxf2,Re3,Qd7,Rb8,Rhf1,Rexb3,Rf8+,Rxf8,Rxf8+,Kxf8,Kxb3,Qd3+,Ka2,Qc4+,Ka1,Qf1+,Ka2,Qc4+,Kb1,Qd3+,Kc1,Qf1+,Kc2,Qe2+,Kb3', 'Qc4#', 'https://lichess.org/training/PxloL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pxMBm', 'Rapid', 'apyshkin', 1821, 'arkan1501', 1824, 'd4,d5,c4,dxc4,Nc3,e6,Bf4,a6,a4,Bb4,e3,Bxc3+,bxc3,Ne7,Bxc4,O-O,Ne2,Nd5,Bg3,Nd7,O-O,N7b6,Bb3,Qe7,c4,Nf6,Bh4,Nbd7,e4,Qe8,e5,Nh5,g4,g5,Bxg5,Ng7,Bh6,Qe7,g5,Re8,Qd3,Nf5,Bc2,Nf8,Bxf8,Qxf8,Ng3,Qg7,Nxf5,Qxg5+,Ng3,Qg6,Qe2,f5,Kh1,Kh8,Rg1,Qg4,f3,Qh4,Raf1,Bd7,Qg2,Rg8,f4,Rad8,Qxb7,Bc8,Qxc7,Rg7,Qc6', 'Bb7,Qxb7,Rxb7', 'https://lichess.org/training/pxMBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pxMxP', 'Rapid', 'amal_aliyev', 1681, 'Feram1r', 1826, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Nc3,d6,Bxc6+,bxc6,h3,f5,d4,fxe4,Nxe4,Bb4+,c3,Ba5,dxe5,d5,Nc5,Bb6,b4,Bxc5,bxc5,Qe7,Be3,Nh6,Bxh6,gxh6,Qd4,Bf5,O-O,Rg8,Nh4,Bxh3,Rfe1,Kd7,e6+,Bxe6,Nf5,Qg5,Ng3,h5,Re5,Qg6,Rxh5,Raf8,Re1,Qf7,Ne4', 'Qxh5,Nf6+,Rxf6', 'https://lichess.org/training/pxMxP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PXNDA', 'Classical', 'Josepov2171', 1979, 'wolfemonster', 2086, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nc6,Be2,cxd4,Nxd4,Bc5,Be3,Qb6,b4,Bxd4,Bxd4,Nxd4,Qxd4,Qxd4,cxd4,Nf6,Nc3,O-O,Kd2,Bf5,Bf3,Ne4+,Bxe4,dxe4,Ke3,Rfe8,Rhd1,Rac8,Rac1,Rc4,Ne2,Rec8,a3,Bg4,Rxc4,Rxc4,Rc1', 'Bxe2,Rxc4,Bxc4', 'https://lichess.org/training/PXNDA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pXNdL', 'Blitz', 'Cemil76', 2017, 'asasdeenasas', 2155, 'd4,Nf6,Bf4,c5,e3,Qb6,Na3,d5,dxc5,Qxb2,Nb5,Qb4+,c3,Qxc5,Nc7+,Kd7,Bb5+,Nc6,c4,e6,Rb1,Bd6,Nxa8,Bxf4,exf4,Ne4,Qf3,f5,Ne2,b6,O-O,Bb7,cxd5,exd5,Qh5,g6,Qh6,Qe7,Nd4,Bxa8,Rbc1,Nc5,Rfe1,Qf7,Nxc6,Bxc6,Bxc6+,Kxc6,Qg5,Re8,Rxe8,Qxe8,Qf6+,Kb7,Qg7+,Ka6,g3,h5,Rc3,Qe6,Qd4,Qe4,Ra3+,Kb7,Qg7+,Kc6,Rxa7,Kb5,a4+,Kc4,Qa1,d4,a5,d3,axb6,d2,Qa2+,Kd3,Ra3+,Ke2,Re3+,Qxe3,fxe3,Ke1,Qc2,d1=Q', 'Qf2#', 'https://lichess.org/training/pXNdL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PxnjB', 'Rapid', 'Alekhine5005', 1718, 'Arvind64', 1676, 'd4,d5,Nf3,e6,Bf4,Nf6,e3,Nbd7,Bd3,Be7,Nc3,Nh5,Bg3,Nxg3,hxg3,Nf6,Qe2,c5,dxc5,Bxc5,O-O-O,Bd7,Ng5,h6,e4,d4,e5,dxc3,exf6,Qxf6,f4,cxb2+,Kb1,Ba3,Bb5,Rd8,Ne4,Qe7,Bxd7+,Rxd7,Qb5,a6,Qa4,b5,Qxa6,O-O', 'Rxd7,Qxd7,Qxa3', 'https://lichess.org/training/PxnjB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pXnsn', 'Rapid', 'Xilften1', 2026, 'itapevi', 2026, 'd4,d6,c4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,Nbd7,Nc3,c6,e4,e5,h3,Qc7,Re1,Re8,Bg5,Nf8,d5,h6,Bd2,a5,Qc1,Kh7,Qc2,N8d7,a3,cxd5,cxd5,b5,Rac1,Ba6,b4,axb4,axb4,Nb6,Qd3,Nc4,Be3,Nd7,Nd2,Nxe3,Qxe3,Qa7,Qxa7,Rxa7,Ra1,Raa8,Bf1,Reb8,Ra5,f5,Rea1,Bb7,Rxa8,Rxa8,Rxa8,Bxa8,Nxb5,fxe4,Nxe4,Bxd5,Nbxd6,Bf8,b5,Be7,Bd3,Nb6,Kf1,Be6,h4,Bd7,Nf7,Bh3+,Ke2,Nd7,f3,Kg7,Nfd6,Nb6,Nc4,Nxc4,Bxc4,Bd8,g4,h5,Nf2,hxg4,fxg4,Bg2,Nd3,Bxh4,Nxe5,Bd8,Ke3,Kf6,Nd7+,Ke7,Ne5,Kf6,Nd3,g5,Nb4,Bb6+,Kd3,Ke5,Kc3,Kf4,Be6,Bf3,Kc4,Bxg4', 'Nd5+,Kg3,Bxg4', 'https://lichess.org/training/pXnsn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pxObk', 'Rapid', 'striker2021', 1702, 'sam1976', 1722, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Qc7,O-O,Nbd7,Bg5,b5,a3,Nc5,f3,Nxb3,cxb3,Be7,Rc1,Qd8,Nce2,Bb7,Qd2,Rc8,Rxc8,Qxc8,Rc1,Qd8,Nc6,Qd7,Nxe7,Qxe7,Rc3,O-O,Qc2,Rd8,Nf4,h6,Rc7,Rd7,Rxd7,Qxd7,Bxf6,gxf6,Nh5,Qd8,Qf2,f5,exf5,Qg5,Qg3,Qxg3,Nxg3,a5,fxe6,fxe6,Ne4,Bxe4,fxe4,Kf7,Kf2,Kf6,h4,Ke5,Ke3,h5,g3', 'd5,exd5,exd5', 'https://lichess.org/training/pxObk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pXpfB', 'Blitz', 'Canon2020', 1954, 'MohamedHazem2002', 1886, 'e4,c5,Nf3,Nc6,Nc3,e5,Bc4,Be7,O-O,d6,d3,Nf6,Re1,O-O,Ne2,Bg4,Ng3,Nd4,Bb3,Nxf3+,gxf3,Bh3,f4,exf4,Bxf4,Qd7,Qf3,Bg4,Qe3,Rfe8,Qd2,Bh3,Rac1,Qg4,e5,Nh5,exd6,Qf3,Bd5,Qxd5,f3,Qd4+,Be3,Qxd6,Nxh5,Bh4,Ng3,Qg6,Bf2,Bxg3,Bxg3,h5,Qf4,c4,Qxc4,Qb6+,Kh1,Qxb2,Qh4,Rxe1+,Rxe1,Be6,Qxh5,Qxc2,Be5,Qxd3,Rg1,Bd5,Rxg7+,Kf8,Qh8+,Ke7,Qh4+,Ke6', 'Qf6+,Kd7,Qd6+,Ke8,Rg8#', 'https://lichess.org/training/pXpfB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PxpfX', 'Rapid', 'BP9Sharma', 2080, 'arkantoslp', 1956, 'e4,c5,Nf3,d6,d3,e5,b3,Nc6,Bb2,Be6,c4,Nf6,Nc3,h5,h3,Rh6,Ng5,Rg6,Nxe6,fxe6,Qf3,Nd4,Qd1,Qa5,Qd2,O-O-O,O-O-O,a6,Kb1,b5,cxb5,axb5,Qc1,Rd7,f4,Ra7,fxe5,dxe5,g4,h4,Rh2,Nc6,Rf2,Be7,Be2,Nd4,Rdf1,Nxe2,Rxe2,Nd7,Rf7,Bg5,Qf1,Bf4,Rc2,Kd8,Rf2,Rf6,Rxf6,Nxf6,Rxf4,exf4,Qxf4,Qa6,Qb8+,Ke7,Qxb5,Qd6,Na4,Rc7', 'e5,Qd5,exf6+', 'https://lichess.org/training/PxpfX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PxQZv', 'Rapid', 'chesspain22', 2179, 'mandre', 2164, 'e4,d5,exd5,c6,dxc6,Nxc6,c3,Nf6,d4,g6,Nf3,Bg7,Bb5,O-O,O-O,Bg4,h3,Bf5,Bf4,h5,Bd3,Qc8,Qc2,Bxh3,gxh3,Qxh3,Nh2,Nd5,Bc1,Rac8,Be4,Nxd4,Qd1,Be5,f4,Ne3,Bxe3,Qxe3+,Rf2,Bxf4,Qxd4,Qe1+,Kg2', 'Be3,Qxe3,Qxe3', 'https://lichess.org/training/PxQZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PxSSF', 'Rapid', 'zlatkinalex', 1880, 'Pancakes75', 1790, 'd4,Nf6,h3,e6,Bf4,Nc6,e3,Bb4+,c3,Be7,a3,O-O,c4,d5,Nc3,Bd6,Bxd6,Qxd6,c5,Qe7,Nf3,b6,b4,a5,b5,Nd8,c6,Qd6,Bd3,Ne8,O-O,f5,Ne5,Nf7,Nf3,Qe7,Nh2,Nfd6,f3,Nf6,Ra2,e5,Re1,e4,Be2,Be6,f4,Nc4,Bxc4,dxc4,Qa4,Ne8,Rd2,Nd6,d5,Bf7,Rc1,Rad8,g4,Qh4,Kg2,h5,gxf5,Nxf5,Nf1,g5,Nxe4,Bxd5', 'Rxd5,Rxd5,Qxc4', 'https://lichess.org/training/PxSSF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pxtfQ', 'Rapid', 'FM FranklinAPalomo', 2477, 'ambrona', 2385, 'Nf3,c5,g3,Nc6,Bg2,g6,O-O,Bg7,e4,d6,Re1,Bd7,h3,e5,d3,Nge7,Na3,a6,Nc4,Qc7,a4,O-O,c3,b5,Ne3,b4,Nd2,Be6,Ndc4,Rfb8,Qc2,Na5,Nxa5,Qxa5,Bd2,bxc3,bxc3,Bb3,Qc1,c4,dxc4,Qc5,Qa3,Nc6,a5,Bh6,Reb1,Bxe3,Bxe3,Qxa3,Rxa3,Bxc4,Rb6,Rxb6,Bxb6,Kf8,Bf1,Bxf1,Kxf1,Ke7,Ke2,Ke6,Kd3,f5,f3,fxe4+,fxe4,Rf8,Ke2,d5,exd5+,Kxd5,Ra4,h5,g4,hxg4,Rxg4,Rh8,c4+,Kd6,Rxg6+,Kd7,c5,Rxh3', 'Rd6+,Ke8,Rxc6', 'https://lichess.org/training/pxtfQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PxtGZ', 'Rapid', 'areia', 2162, 'Nizar1973', 1901, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,h3,e5,dxe5,dxe5,Qxd8,Rxd8,Nxe5,Nxe4,Nxf7,Bxc3+,bxc3,Re8,Kd1,Kxf7,Be3,Nc6,Kc2,Nd6,c5,Bf5+,Kb3,Na5+,Ka4,Ndc4,Bd4,c6,Kb4,b5,cxb6,axb6,Bxc4+,Re6,Bxb6,c5+,Bxc5,Nc6+,Kb5,Rb8+,Ka4,Ra8+,Kb3,Rb8+,Bb4', 'Na5+,Ka3,Nxc4+', 'https://lichess.org/training/PxtGZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pxtr5', 'Blitz', 'kolyamolya', 1508, 'mmalchow', 1509, 'd4,d5,c4,e6,e3,f5,Nf3,Nf6,Ne5,Bb4+,Nc3,O-O,cxd5,exd5,Bb5,c6,Ba4,Ne4,Qd3,Qh4,O-O,b6,Nxc6,Nxc6,Bxc6,Rb8,Bxd5+,Kh8,a3,Bd6,f4,a6,Nxe4,fxe4,Bxe4,Bd7,Rf3,Bb5,Qc2', 'Qe1+,Rf1,Qxf1#', 'https://lichess.org/training/Pxtr5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pXUPJ', 'Rapid', 'JohhnyParov', 1864, 'daluhong', 1852, 'd4,d6,e4,Nf6,Nc3,Nbd7,Nf3,e5,dxe5,dxe5,Bg5,Be7,Bb5,c6,Bc4,b5,Bxf6,Bxf6,Bb3,O-O,Qd6,Qb6,O-O,Nc5,Nxe5,Nxb3,axb3,Rd8,Qxc6,Bxe5,Qxa8,Bb7,Qxd8+,Qxd8,Nxb5,Bxb2,Rfd1,Qb6,Rxa7,g6,c4,Bxe4,Re7,Bf5,h3,Be6,Rd2,Bf6,Re8+,Kg7,Rd6,Qa5,Rd1,Qb4,Nc7,Qxb3,Nxe6+,fxe6,Rd7+,Kh6,Rxe6,Qb1+,Kh2,Qb2,Kg1,Qc1+,Kh2,Qf4+,Kg1,Be5,Ree7', 'Qc1+,Rd1,Qxd1#', 'https://lichess.org/training/pXUPJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pXVG8', 'Rapid', 'Hrabrivitez', 2280, 'Jalexs_MS', 2146, 'e4,d6,d4,Nd7,Nf3,c6,c4,g6,Nc3,Bg7,Be2,e5,d5,c5,O-O,Ne7,a3,O-O,Bg5,f6,Bd2,a6,Rb1,b6,b4,Ra7,Qc2,Qe8,Rb2,f5,Ng5,Nf6,bxc5,bxc5,Rfb1,h6,Ne6,Bxe6,dxe6,Qc8,exf5,Nxf5,Rb6,Qxe6,Nd5,Nd4,Nxf6+', 'Qxf6,Qe4,Qxf2+', 'https://lichess.org/training/pXVG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pXvHL', 'Rapid', 'Temo0815', 1634, 'Magoggo', 1639, 'b3,f5,Ba3,d6,e3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,Ne2,Ne4,O-O,e5,d3,Nef6,c3,Be7,d4,O-O,g3,e4,Nf4,d5,Bxe7,Qxe7,Nd2,c6,c4,Ng4,cxd5,cxd5,Nxd5,Qd6,Nf4,Qh6,h4,g5,Ng2,Ndf6,Qe2,gxh4,Nxh4,Qg5,Kg2,Nh5,Rae1,Rf6,Nc4,Rh6,Rh1,Rf8,Ne5,Nxe5,dxe5,f4,exf4', 'Nxf4+,Kg1,Nxe2+', 'https://lichess.org/training/pXvHL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pxVJN', 'Rapid', 'realgee', 1758, 'Gabex2me', 1697, 'e4,c5,f4,d6,Nf3,Nc6,Bb5,Qc7,O-O,a6,Be2,Nf6,d3,e6,b3,Be7,Bb2,O-O,Qe1,Bd7,Nbd2,Rac8,Qg3,Kh8,Ng5,h6,Ndf3,hxg5,Nxg5,e5,fxe5,Nxe5,Rxf6,Bxf6', 'Qh4+,Kg8,Qh7#', 'https://lichess.org/training/pxVJN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pxVqf', 'Blitz', 'Ark_Zybord', 1641, 'Lucenzo_BD', 1593, 'e4,c5,f4,e6,e5,Nc6,Nf3,d5,c3,Nge7,Bb5,Ng6,d4,cxd4,Nxd4,Qc7,Be3,a6,Ba4,b5,Bc2,Nxd4,Qxd4,Bb7,Nd2,Rc8,Nf3,Bc5,Qd2,O-O,h4,Rfd8,h5,Ne7,Qd3,g6,hxg6,hxg6,g4,Bxe3,Qxe3,d4,Qd2,Bxf3,Qh2,Kf8,Qh6+,Ke8,Rh3,Bxg4,Rg3,Bf5,Bxf5,Nxf5,Qh8+,Kd7,Qf6,Nxg3,Qxf7+,Kc6,Qxe6+,Kb7,O-O-O,Ne2+,Kc2,d3+,Kd2,Nxf4,Qf6,Rf8,Qg5,Rf5,Qg3,Qxe5,Re1,Qf6,Qf3+,Kb6,Qe3+,Kc6,Qe4+,Kd6,Qb4+,Rcc5,Re4,Kc6,Qa3,Qg5,Qxa6+,Kd5', 'Rd4+,Ke5,Qd6#', 'https://lichess.org/training/pxVqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pXvXz', 'Rapid', 'Babykata', 1739, 'Uguzzone', 1715, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,Be7,Nf3,Nc6,Bb5,Bd7,O-O,a6,Ba4,b5,Bb3,O-O,Qd3,Na5,Bc2,g6,Bf4,Nc4,Nd2,Nd6,e5,Nf5,Qe2,Bg5,Bxf5,exf5,Bxg5,Qxg5,Nf3,Qe7,Qe3,Bc6,Rac1,Bd5,Rc2,Be4,Re2,c6,Nd2,Bd5,Qh6,c5,a3,cxd4,cxd4,Qxa3,Re3,Qb4,Rh3,Rfd8,Qxh7+,Kf8,Qh8+,Ke7,Qf6+,Kd7,Rc1,Qxd2', 'Qd6+,Ke8,Rh8#', 'https://lichess.org/training/pXvXz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pXW1R', 'Classical', 'adchoadhoc', 1790, 'David3p', 1778, 'e4,e5,Nf3,d6,d4,Qf6,Bg5,Qg6,dxe5,Nd7,Nc3,c6,h4,h6,h5,Qe6,Bh4,Nxe5,Nxe5,Qxe5,f4,Qxf4,g3,Qe5,Bg2,Nf6,Rf1,Be6,Bxf6,gxf6,Qf3,Be7,O-O-O,O-O-O,Kb1,Rhg8,Rd3,Rxg3', 'Qxg3,Qxg3,Rxg3', 'https://lichess.org/training/pXW1R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PXWB3', 'Rapid', 'donesledestructeur', 1719, 'V_V_Ragozin', 1858, 'd4,Nf6,c4,e6,Nf3,d5,cxd5,exd5,Nc3,Bb4,Bd2,Bg4,Qa4+,Nc6,Ne5,O-O', 'Nxc6,bxc6,Qxb4', 'https://lichess.org/training/PXWB3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PXYAn', 'Rapid', 'Tamskie22', 1891, 'Vancy2005', 1862, 'e4,e6,Bc4,d5,exd5,exd5,Qe2+,Be7,Bb3,Nf6,Nf3,O-O,O-O,c6,Nc3,Nbd7,a3,a5,d3,b5,Ba2,Re8,Ne5,Nxe5,Qxe5,Bxa3,Qg5,Bf8,Bf4,Bd7,Ne2,Ng4,Qxd8,Raxd8,Nd4,Bc5,Nf3,Re2,d4,Bb6,Bb1,h6,c3,Rxb2,h3,Nf6,Ne5,Bc7,Bc1,Re2,Nxd7,Rxd7,Bf5,Rde7,Be3,Ne4,Bg4,Rc2,Rfc1,Rxc1+,Rxc1,a4,Bf3,Ba5,Bxe4,Rxe4,g3,Kh7,Kg2,f5,Kf3,Re6,Bf4,g5,Be5,a3,Ke2,a2,Kd3,h5,Ra1,g4,h4,b4,Rxa2,Bd8,cxb4,Kg6,Ra6,Kf7,Ra7+,Re7,Rxe7+,Kxe7,Bf4,Bb6,Bg5+,Kd7,Ke3,Ke6,Bf4,Kd7,Be5,Ke6,f3,Kd7,fxg4,fxg4,Kf4,Ke6', 'Kg5,Bd8+,Kxh5,Kf5,Kh6', 'https://lichess.org/training/PXYAn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pxZqF', 'Blitz', 'Aleks500', 1808, 'cheofchess', 1815, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,a6,Bxc6,bxc6,d4,exd4,cxd4,Bb6,O-O,d6,Nc3,Bg4,Qd3,Nf6,Bg5,h6,Bxf6,gxf6,Rad1,Qd7,h3,Be6,e5,Rg8,Kh1,fxe5,dxe5,d5,Qh7,O-O-O,Qd3,Bxh3,gxh3', 'Qxh3+,Nh2,Qg2#', 'https://lichess.org/training/pxZqF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PY2qe', 'Blitz', 'Sprungwunder', 2098, 'ThatDutchGuy', 2044, 'c3,d5,g3,c6,Bg2,e5,Nf3,Bd6,d3,Bg4,O-O,Bxf3,Bxf3,h5,Bg2,h4,c4,hxg3,fxg3,Ne7,cxd5,cxd5,Bg5,Nbc6,Bxe7,Nxe7,Nc3,Qd7,Nxd5,Nxd5,Bxd5,Bc5+,Kg2,Qxd5+,e4,Qe6,h4,O-O-O,Rc1,b6,b4,Qxa2+,Rf2,Qxf2+,Kh3,Kb7,bxc5,bxc5,Rb1+,Kc7,Qa4,Qd4', 'Qxa7+,Kc8,Rb8#', 'https://lichess.org/training/PY2qe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Py4uW', 'Rapid', 'karljw34', 1939, 'Villiers', 2062, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,dxc4,Bxc4,e6,Nf3,Bb4,O-O,O-O,a3,Ba5,Bg5,Nbd7,Bd3,h6,Bh4,Qc7,Rc1,Bxc3,bxc3,Qa5,a4,b6,Nd2,Ba6,Nb3,Qxa4,Ra1,Qc6,Bxa6,Qxc3,Qd3,Qxd3,Bxd3,Nd5,Be4,g5,Bg3,N7f6,f3,a5,Nd2,Rac8,Be5,Nd7,Bd6,Rfe8,Rac1,f5,Bd3,N7f6,Be5,Kf7,Bb5,Red8,Nc4,Kg6,Rfe1,h5,Rb1,Nc3,Nxb6,Rb8,Bxb8,Rxb8,Rb3,Rxb6,Be8+,Nxe8,Rxb6,Nc7,Rc6,N3d5,Ra1,Kf6,Rxa5,Ke7,Rac5,Kd7,Kf2,Nb5,Ke2', 'Nxd4+,Kf2,Nxc6', 'https://lichess.org/training/Py4uW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Py85i', 'Classical', 'asd461', 1736, 'And1927', 1707, 'c4,c5,Nc3,e5,g3,Nf6,Bg2,Nc6,e4,Nd4,Nge2,Be7,d3,b6,f4,d6,Nxd4,cxd4,Nd5,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/Py85i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('py8ri', 'Rapid', 'nidja', 1643, 'Apprenti_Chess', 1653, 'c4,e5,g3,Nc6,Bg2,Qf6,d3,Bc5,Nf3,e4,dxe4,Nd4,Bg5', 'Nxf3+,exf3,Qxg5', 'https://lichess.org/training/py8ri');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pyA55', 'Blitz', 'FM komis1987', 2203, 'DanielMarin', 2217, 'd4,Nf6,Nf3,g6,Nc3,d5,Bf4,Bg7,e3,c5,dxc5,O-O,Be2,Qa5,Nd2,Qxc5,Nb3,Qc6,Be5,Nbd7,Bb5,Qe6,Bd4,a6,Bxd7,Qxd7,Nc5,Qc6,Nd3,b6,Nf4,e6,Be5,Bb7,Qd4,Nh5', 'Nxh5,Bxe5,Qxe5', 'https://lichess.org/training/pyA55');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYAAw', 'Blitz', 'MaestroCmr', 1648, 'perislav', 1615, 'Nf3,d5,d4,Bg4,g3,Nf6,Bg2,e6,O-O,Nc6,Bg5,Be7,Nc3,h6,Bf4,g5,Be5,Nxe5,Nxe5,Bd6,Nxg4,Nxg4,e4,h5,exd5,h4,dxe6,Nxh2,exf7+,Kxf7,Bd5+,Kf8,Qd3,Qd7,Rfe1,hxg3,fxg3,Qg4,Rf1+,Nxf1,Rxf1+,Ke7,Qe3+,Kd7,Rf7+,Kd8,Be6,Qxg3+,Qxg3,Bxg3,Rd7+,Ke8,Nd5,Bd6', 'Nf6+,Kf8,Rf7#', 'https://lichess.org/training/pYAAw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYBBC', 'Rapid', 'username69696969', 1593, 'poddargaurav', 1627, 'd4,d5,Nc3,Nf6,Nf3,Bf5,Ne5,e6,Bf4,Bd6,Nb5,Bxe5,Bxe5,Na6,e3,O-O,c4,Qe7,Rc1,Qb4+,Qd2,Qxd2+,Kxd2,Ne4+,Ke1,c6,Nc7,Nxc7,Bxc7,Rac8,Ba5,c5,dxc5,Nxc5,Bb4,Rfd8,cxd5', 'Nd3+,Bxd3,Rxc1+,Kd2,Rxh1', 'https://lichess.org/training/PYBBC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PyBcJ', 'Rapid', 'falsemate', 2286, 'Fermalob', 2195, 'd4,f5,c4,Nf6,Nc3,g6,f3,Bg7,e3,O-O,Bd3,e6,Nge2,b6,O-O,Bb7,Ng3,d5,b3,Nbd7,Bb2,a6,Qd2,Bh6,Rae1,c5,Qf2,Qc7,Kh1,Rae8,Ba1,g5,Bxf5,exf5,Nxf5,Bg7,cxd5,cxd4,d6,Qc5,Nxg7,Kxg7,exd4,Qxd6,Rxe8,Rxe8,Ne4,Bxe4,fxe4,Rxe4,Qf5,Qd5,Qh3,Rf4,Re1,Ne4,Qh5,Ndf6,Qe2,Rf2,Qe3,Qf5,h3,Rf1+,Kh2,Rxe1,Qxe1,Qf4+,Kh1,Nd5,Bb2,Ng3+,Kg1,Ne3,d5+,Kg6,d6,Ne4', 'd7,Qd6,Qxe3,Qd1+,Kh2', 'https://lichess.org/training/PyBcJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYbHL', 'Blitz', 'Flupkees', 2121, 'ScottPilgrim', 2153, 'e4,c6,d4,d5,f3,Qb6,c3,dxe4,fxe4,e5,Nf3,Bg4,Bc4,exd4,Bxf7+,Kxf7,Ne5+,Ke8,Qxg4,Nf6,Qe6+,Be7,Nf7,Rf8', 'Nd6+,Kd8,Qc8#', 'https://lichess.org/training/PYbHL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PyBiX', 'Rapid', 'Wpajr', 1990, 'Mutaz_Hamra', 1953, 'c4,c5,Nc3,Nf6,Nf3,b6,g3,Bb7,Bg2,d6,O-O,Nbd7,d4,cxd4,Nxd4,Bxg2,Kxg2,Qc7,b3,a6,Bg5,h5,h4,Ng4,Nd5,Qb7,f3,Ngf6,Nxf6+,gxf6,Bc1,Bg7,Bb2,f5,Qc2,f4,Nf5,Bxb2,Qxb2,Rg8,Rad1,Ne5,Rxd6,Rxg3+,Nxg3,exd6,Nxh5,O-O-O,Nxf4,Rg8+,Kf2,Qe7,Rh1,Qf6,Qd4', 'Ng4+,fxg4,Qxd4+', 'https://lichess.org/training/PyBiX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PyCNL', 'Classical', 'pz16', 1958, 'Obare5678', 1779, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,Bd7,Bxd7+,Qxd7,Nc3,Nxd5,Nxd5,Qxd5,O-O,h6,Nf3,Bd6,d3,O-O,b3,Rfe8,Bb2,Rad8,c4,Qe6,Re1,Qf5,Qd2,e4,Nd4,Qh5,h3,Be5,Qxa5', 'Bh2+,Kxh2,Qxa5', 'https://lichess.org/training/PyCNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYDio', 'Blitz', 'alexisromero89', 1567, 'jose1245', 1551, 'e4,e5,Bc4,Nc6,a3,Nf6,Nc3,Be7,d3,d6,h3,Be6,Nd5,Qd7,Nf3,O-O-O,b4,a6,b5,axb5,Bxb5,Nxd5,exd5,Bxd5,c4,Be6,a4,f5,a5,e4,Nd4,Bf6,Nxc6,bxc6', 'Ba6+,Kb8,Qb3+,Ka7,Qb7#', 'https://lichess.org/training/pYDio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PyE6U', 'Classical', 'kingqueenbishop', 1693, 'kadirtural', 1658, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,e6,O-O,Be7,d3,O-O,h3,h6,Bf4,Nc6,Qd2,d5,exd5,exd5,Bb5,d4,Bxc6,dxc3,Qxc3,bxc6,Rfe1,Re8,Ne5,Bd7,Nxd7,Qxd7,Re2,Nd5,Qe5,Nxf4,Qxf4,Bd6,Rxe8+,Rxe8,Qf3,Qe6,Kf1,Be5,Re1,f6,c3,Qd5,Qe3,Re6,f4,Kf7,fxe5,Rxe5,Qf3', 'Rf5,Qxf5,Qxf5+', 'https://lichess.org/training/PyE6U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PyErK', 'Rapid', 'bloopy1', 1693, 'banonie', 1773, 'e4,c5,Nf3,g6,Nc3,Nc6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Bd3,d6,Be3,Nf6,O-O,O-O,h3,c5,Qd2,Nh5,a3,e5,Bc4,Qf6,Bg5,Bh6,Bxh6,Nf4,Bxf8,Qg5,g4', 'Nxh3+,Kg2,Qxd2', 'https://lichess.org/training/PyErK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYfI3', 'Bullet', 'snickers55', 1633, 'greentooth', 1617, 'e4,h6,d4,g5,g4,Bg7,e5,e6,f4,d6,Be2,dxe5,dxe5,Qxd1+,Bxd1,gxf4,Bxf4,Nc6,Nc3,Bd7,Nf3,O-O-O,O-O,Nge7,Be2,h5,gxh5,Rxh5,Bg3,Nxe5,Nxe5,Bxe5,Bxh5,Bd4+,Bf2', 'Rg8+,Kh1,Bc6+,Ne4,Bxe4+,Bf3,Bxf3#', 'https://lichess.org/training/pYfI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYfiE', 'Rapid', 'SHINDINDO', 1964, 'NeoPetitPrince', 1913, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,e6,Nf3,Nf6,Nd4,Qe5+,Nde2,a6,d4,Qh5,O-O,b5,Bd3,Bd6,g3,Bb7,Bf4,Qh3,f3,b4,Ne4,Nd5,Bxd6,cxd6,Nxd6+,Ke7,Nxb7,Ne3,Nf4,Qxf1+,Qxf1,Nxf1,Rxf1,Nd7,Re1,Nf6,d5,Ra7,d6+,Kd7,Bxa6,Rb8,Nc5+,Kxd6,Nfd3,Rc7,Ne4+,Nxe4,fxe4,Rxc2,e5+,Kd5,b3,Rxa2,Bc4+,Kd4,Rd1,Kc3,Ne1,Rd2,Rc1+', 'Kb2,Nd3+,Rxd3', 'https://lichess.org/training/PYfiE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYgNO', 'Rapid', 'patukaelmago', 2006, 'mamad_yomob', 1887, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Bg4,h3,Bh5,d3,Nf6,Nbd2,Be7,Nf1,O-O,Ng3,Bxf3,Qxf3,a6,Bg5,b5,Bb3,a5,Nf5,Nd7,Nxe7+,Nxe7,Qg3,Nc5,Bc2,b4,Bf6,Ne6,Bb3,g6,Qh4,Nf4,Bxe7,Qd7,O-O,Rfe8,Bf6,bxc3,g4,h5,Qg5', 'Nxh3+,Kh2,Nxg5', 'https://lichess.org/training/PYgNO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYiqR', 'Rapid', 'fgbrunner3', 1817, 'bakkal61', 1789, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,e6,d4,Nf6,Bb5+,c6,Bd3,Nd5,Bd2,Nxc3,Bxc3,Qc7,O-O,Nd7,Re1,Nf6,Bd2,h6,c4,Be7,Bc3,b6,Ne5,a5,Qa4,Bb7,d5,Bd6,dxc6,Bc8,h3,O-O,Rad1,Nh5,Bf1,Nf4,Nd7,Bxd7,cxd7,Ng6,a3,Rad8,b4,axb4,axb4,Be5,Bxe5,Nxe5,c5,bxc5,bxc5,Nxd7,c6,Nb6,Qa6,Rxd1,Rxd1,Rc8,Rc1,Nd5,Qb7,Kf8,Ba6,Rd8,Qb3,Ke7,Bb7,g5,Qa3+,Kf6,Qf3+,Kg6,Qe4+,Kg7,Qd4+,f6,Qa4,Nf4,Qa2,Rd5,Ba6,h5,Bf1,h4,Qc2,Rd6,Bb5,Nd5,Qa2,Qb6,Qa6,Qc7,Qb7,f5,Ba6,Kf6,Qa8,Rd8,Qb7,Rb8,Qxc7,Nxc7,Bb7,Ke7,Rd1,Nd5', 'Rxd5,exd5,c7,Rxb7,c8=Q', 'https://lichess.org/training/PYiqR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYJA9', 'Blitz', 'wild3000', 2417, 'FM DmitryMazanchenko', 2290, 'g3,g6,Bg2,Bg7,d4,d6,c4,Nc6,Nf3,Bg4,Be3,e5,dxe5,dxe5,Nc3,Qxd1+,Rxd1,Nge7,h3,Bxf3,Bxf3,O-O,O-O,a6,a3,f5,Bd5+,Kh8,f4,e4,Rd2,Rad8,Rfd1,Bxc3,bxc3,Nxd5,Rxd5,Rxd5,cxd5,Rd8,c4,Na5,c5,Nc4,Bd4+,Kg8,Be5,c6,d6,Rd7,Rd4,Nxa3,g4,Kf7,gxf5,gxf5,Kf2,Ke6,Rd1,Nc4,Bd4,b6,cxb6,Nxd6,Be5,Nb7,Rc1,c5,Bc7,Kd5,Ke3,c4,Kd2,Kc5+,Kc3,Nd6,Bxd6+', 'Rxd6,Ra1,Rxb6,Ra5+,Rb5', 'https://lichess.org/training/pYJA9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYjKT', 'Rapid', 'Bingham', 1670, 'vladkas23', 1679, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qd6,Bb5+,c6,Ba4,Bg4,O-O,Nf6,Re1,Be7,Ne4,Qb4,Nxf6+,Bxf6,c3,Bxf3,gxf3,Qh4,d4,O-O,Re4,Qh3,dxe5,Bh4,Qe2,Nd7,Re3,Qf5,Bc2,Qg5+,Kh1,Qe7,f4,Rae8,Rh3,Qd8,Qg4,Bxf2,Bxh7+,Kh8,Bf5+,Kg8,Bxd7,Re7,Bf5,f6,Bg6,f5,Qh5,Qd5+,Rf3', 'Qd1+,Kg2,Qg1+,Kh3,Qf1#', 'https://lichess.org/training/pYjKT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pyJY0', 'Rapid', 'Bastian5236', 2086, 'albertorubio', 2038, 'd4,d5,Bf4,Nc6,e3,Nf6,Be2,Bf5,c3,e6,h3,Bd6,Bxd6,Qxd6,Nf3,h6,Nbd2,a6,a3,O-O,O-O,Ne4,c4,dxc4,Nxc4,Qe7,Qb3,b5,Ncd2,Nxd2,Nxd2,Qg5,Nf3,Qf6,Rfc1,Be4,Qd1,Rac8,Nd2,Qg6,f3,Bd5,e4,Bc4,Nxc4,bxc4,Bxc4,Na5,Bxa6,Rb8,b4,e5,Bd3,Nb7,dxe5,Rfd8,Rxc7', 'Qb6+,Kh1,Qxc7', 'https://lichess.org/training/pyJY0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYKjd', 'Rapid', 'GuillaumePley', 1640, 'thefuturenow', 1700, 'd4,d6,e4,Nf6,Bd3,g6,Bf4,Bg7,Nf3,e5,dxe5,dxe5,Nxe5,Nc6,Nxc6,bxc6,Nc3,O-O,O-O,Bg4,Qd2,Rb8,b3,Nh5,Bg5', 'Bxc3,Bxd8,Bxd2', 'https://lichess.org/training/PYKjd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYKkQ', 'Rapid', 'Almafuerte1960', 1615, 'polo0600', 1705, 'e4,c5,Bc4,e6,Nc3,a6,a3,Nc6,Nf3,h6,d4,b5,d5,exd5,Bxd5,Bb7,Be3,Nf6,e5,Nxd5,Nxd5,b4,O-O,bxa3,bxa3,Be7,Rb1,Rb8,Nxe7,Nxe7,Bxc5,O-O,Bd6,Bxf3,Qxf3,Rxb1,Rxb1,Re8,Qb7,Nf5,Qxa6,Re6,Rb8', 'Qxb8,Bxb8,Rxa6', 'https://lichess.org/training/PYKkQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYlWj', 'Blitz', 'Plz_dont_lose', 2061, 'bosang', 2039, 'e4,c5,Nf3,d6,d4,cxd4,c3,dxc3,Nxc3,Nf6,Bc4,e6,O-O,Nbd7,Qe2,Be7,Rd1,a6,Bf4,Qc7,e5,dxe5,Nxe5,Nxe5,Bxe5,Qb6,Bd4,Qc6,Rac1,b5,Bb3,Qb7,Be5,O-O,Rd3,Bd7,Rg3,Bc6,Bc2,g6,Re1,Rfd8,Qe3,Nd5,Nxd5,Bxd5,Qh6,Bf8,Qh4,Be7,Qh6,Bf8,Qg5,Rac8,Bb1,Bg7,Bxg7,Kxg7,Rh3,f6,Qh6+,Kg8,Bxg6,hxg6', 'Qh8+,Kf7,Rh7#', 'https://lichess.org/training/pYlWj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYMHz', 'Rapid', 'ilya_agaltsov', 1925, 'khalaf17', 1931, 'd4,d5,Nf3,Nc6,e3,Bf5,a3,e6,Nbd2,Be7,c4,Nf6,c5,O-O,Be2,h6,O-O,Nh7,Qb3,Rb8,Bb5,Ng5,Qa4,Bg4,Nxg5,Bxg5,Bxc6,bxc6,Qxc6,Be2,Re1', 'Bb5,Qxb5,Rxb5', 'https://lichess.org/training/pYMHz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYmI3', 'Classical', 'Takamaka', 1953, 'mansoursherif', 1937, 'e4,e5,Nf3,b6,Bc4,d6,d4,exd4,Qxd4,Bb7,O-O,Nd7,Nc3,Ngf6,e5,dxe5,Nxe5,Nxe5,Qxe5+,Qe7,Qd4,Qd6,Re1+,Be7,Qe3,a6,Rd1,Qc5,Qe2,O-O,Be3,Qc6,Nd5,Rae8,Nxf6+,Bxf6,Bd5,Qxd5,Rxd5,Bxd5,c4,Be6,Rc1,Rd8,h3,Rd7,b3,Rfd8,Qf3,Bb2,Rb1,Ba3,Qg3,a5,Bg5,Rd3,Qxc7', 'Rd1+,Rxd1,Rxd1+,Kh2,Bd6+,Bf4,Bxc7', 'https://lichess.org/training/pYmI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYmpm', 'Classical', 'dee9blue', 1846, 'Klefuchs_ll', 2063, 'e4,c5,Nf3,e6,Bc4,a6,a4,d6,c3,Nc6,d3,Be7,O-O,Nf6,Re1,Qc7,Nbd2,Rb8,Nf1,b5,axb5,axb5,Bb3,O-O,Bf4,e5,Bg3,Bg4,Ne3,Bxf3,Qxf3,c4,Bc2,cxd3,Bxd3,b4,Rab1,bxc3,bxc3,Na5,c4,Nb3,Qd1,Nd4,Nf5,Nxf5,exf5,Rxb1,Qxb1,Rb8,Qc2,Qa5,f3,Nh5,Bf2,Rc8,Rb1,Nf4,Be1,Qa3,Rb3,Qa1,Rb1', 'Qd4+,Bf2,Qxd3,Qxd3,Nxd3', 'https://lichess.org/training/PYmpm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PynVZ', 'Blitz', 'alexitodelomas10', 1945, 'shekinkolya1', 1540, 'd4,d5,Nf3,Nf6,e3,Nc6,Bd3,Bg4,O-O,e6,Nbd2,Bd6,b3,h5,Bb2,O-O,h3,g6,hxg4,hxg4,Ne5,Kg7,Nxg4,Rh8,f4,Nxg4,Qxg4,g5,fxg5,Bh2+,Kf2,Ne7,Ke2,Nf5,Bxf5,exf5,Qxf5,Qe7,Qxd5,Rae8,Qf5', 'Qxe3+,Kd1,Qe2+,Kc1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/PynVZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pyny1', 'Rapid', 'S_Aziz98', 1748, 'ArtonKuqi', 1809, 'd4,b6,c4,Bb7,d5,g6,Nc3,Bg7,e4,c6,Nf3,cxd5,exd5,e6,Be3,Bxc3+,bxc3,exd5,cxd5,Qe7,Bd3,Nf6,O-O,Nxd5,Re1,O-O,Bh6,Qd6,Bxf8,Kxf8,Qe2,Nc6,Ng5,h6,Ne4,Qe7,Qd2,Qh4,Ng3,Nf6,Bc4,Ng4,Qd6+,Kg7,h3,Nf6,Bb3,Qg5,Ne4,Nxe4,Rxe4,Na5,Rg4,Qf5,Rf4,Qg5,Rxf7+,Kh8,Rf8+,Kg7,Rf7+,Kh8,g4,Nxb3,axb3,Bc6,Rf6,Rg8,Qd4,Rg7,Rf8+,Kh7,Re1,h5,Ree8,Qc1+,Kh2,Qh1+,Kg3,Qg2+,Kh4', 'g5+,Kxh5,Qxh3#', 'https://lichess.org/training/pyny1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PyNYH', 'Classical', 'Mohamed_El-wakel', 1727, 'chinmayshibukumar', 1686, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,h6,h3,Nf6,a4,Be6,Bxe6,fxe6,c3,d5,O-O,Qd7,Qc2,O-O-O,b4,d4,c4,Nxb4,Qb3,Qc6,Nxe5,Qe8,Bd2,Nc6,Nxc6,Qxc6,a5,a6,Na3,Bd6,Nc2,Qc5,Bb4,Qe5,Bxd6,Rxd6,Rfb1,b6,Qb2,Kd7,axb6,Rxb6,Qxd4+,Qxd4,Nxd4,Rxb1+,Rxb1,e5,Nf3,Ke6,Rb7,Kd6,Ra7,Rb8,Rxa6+,c6,Ra5,Rb1+,Kh2,Rf1,Kg3,Nh5+,Kh2,Rxf2,Rxe5,Rxf3,Rxh5,Rxd3,Rh4,Rc3,Rg4,Rxc4', 'e5+,Kxe5,Rxc4', 'https://lichess.org/training/PyNYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pyoBW', 'Blitz', 'DJ73', 2417, 'GM Petvel', 2497, 'Nf3,d5,d4,Nf6,Bf4,c5,c3,Nc6,e3,Bg4,Nbd2,e6,h3,Bh5,g4,Bg6,Ne5,Nxe5,dxe5,Nd7,Bg3,Be7,Bg2,O-O,O-O,Bd3,Re1,Bh4', 'Bxh4,Qxh4,Nf3,Qe7,Qxd3', 'https://lichess.org/training/pyoBW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PyosI', 'Rapid', 'corvin83', 1842, 'merip', 1787, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c5,e3,Nc6,Be2,dxc4,Bxc4,cxd4,Nxd4,Nxd4,Qxd4,Qxd4,exd4,a6,O-O,b5,Bb3,Bb7,Bf4,Be7,Rad1,O-O,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Rxd5,Rfd8,Rfd1,Rxd5,Rxd5,Rc8,h3,Rc2,Rd2,Rc1+,Kh2,g5,Rd8+,Bxd8,Bxc1,f5,f4,h6,fxg5,Bxg5,Bxg5,hxg5,g3,Kf7,Kg2,Ke6,Kf2,Kd5,Ke3,Ke5,b4,Kd5', 'h4,gxh4,gxh4', 'https://lichess.org/training/PyosI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYQiz', 'Blitz', 'PusherPatrol', 2082, 'Litke76', 2250, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Bc4,a6,a4,Nc6,f4,Bc5,Nf3,Nge7,f5,O-O,f6,gxf6,Bh6,Re8,h4,Kh8,Nd2,Rg8,Qh5,Rg6,O-O-O,Ne5,Bb3,Qb6,Rhe1,Nd3+,Kc2,Nxe1+,Rxe1,d6,g4,Bd7,g5,Be3,Nc4,Qd4,Nxe3,Rc8,Re2,b5,axb5,a5,Ng4,a4,Ba2,a3,gxf6,axb2,Bg7+,Kg8,Re3,Bxb5,Nh6+,Rxh6,Qxh6,Nc6,Bf8,Nb4+,Kxb2,Qd2+,Kb3,Rxc3+,Rxc3', 'Qxa2+,Kxb4,Qa4#', 'https://lichess.org/training/PYQiz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYR79', 'Classical', 'Chessaddict100', 1771, 'Blefus', 1676, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,Nc6,Nf3,Bg4,d5,Bxf3,Qxf3,Nd4,Qd1,c5,Bxc4,e6,Be3,exd5,exd5,Qb6,b3,Bd6,O-O,O-O,Re1,Be5,Na4,Qa5,f4,b5,Bxb5,Bxf4,Bxf4,Qxb5,Nc3,Qb4,Rc1,Rad8,Be5,Nxd5,Nxd5,Rxd5,Bxd4,Rxd4,Qe2,g6,Qa6,Rd2,Qxa7,Qd4+,Kh1,Qd5,Rg1,Re8,Rxc5,Qd4,Qa4', 'Qxg1+,Kxg1,Re1#', 'https://lichess.org/training/PYR79');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYRS4', 'Rapid', 'navid350', 1876, 'leszk', 1932, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,O-O,d5,exd5,cxd5,d4,Nf6,Bg5,Be7,dxc5,Bxc5,a3,Be7,c3,Ne4,Bxe7,Qxe7,Re1,O-O,Qd4,Qc5', 'Rxe4,Qxd4,Rxd4', 'https://lichess.org/training/PYRS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PYRyN', 'Rapid', 'jirica', 1662, 'rudolfsp', 1726, 'd4,d5,Nf3,Bg4,Ne5,Nf6,Nxg4,Nxg4,e4,Nf6,e5,Nfd7,c4,Nb6,c5,N6d7,Nc3,e6,Bd3,Nc6,Be3,b6,cxb6,Nxb6,a3,Nc4,Bxc4,dxc4,O-O,Be7,Qa4,Qd7,Qxc4,O-O,b4,Rab8,Rfc1,Rfd8,Nb5,Rxb5,Qxb5,Nxd4,Qd3', 'Nf3+,gxf3,Qxd3', 'https://lichess.org/training/PYRyN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYthK', 'Blitz', 'Nitzs', 1531, 'Jose_Caramaschi', 1634, 'Nf3,Nf6,d4,d5,c4,e6,a3,dxc4,Nc3,Nc6,Bg5,Be7,e3,O-O,Bxc4,a6,O-O,b5,Bb3,Bb7,Qd2,Na5,Bd1,Nc4,Qc1,Bxf3,Bxf3,Rb8,b3,Nd6,Re1,h6,Bh4,Nfe4,Bxe7,Qxe7,Nxe4,Nxe4,Bxe4,f5,Bd3,Rbc8,Qc6,Rfd8,Rec1,Rd6,Qc5,Qd7,a4,bxa4,Bc4,Kh7,Qe5,axb3,Bxb3,Rb6,Ba4,c6,g4,g6,gxf5,gxf5,Bd1,Rb5,Qf6,a5,Bh5,Rg8+,Kh1,f4,Bf7', 'Qd5+,e4,Qxe4+,f3,Qxf3#', 'https://lichess.org/training/pYthK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PyuHM', 'Rapid', 'choripete', 2011, 'ivano1122', 1857, 'd4,Nf6,g3,g6,Bg2,Bg7,Nc3,d5,e3,O-O,Nge2,Re8,O-O,Nbd7,Nf4,c6,a3,e5,dxe5,Nxe5,Nd3,Bf5,Nxe5,Rxe5,Ne2,Qb6,Nd4,Bd7,Rb1,c5,Nf3,Re6,b3,Ne4,Bb2,Bxb2,Rxb2,Nc3,Qd2,Nb5,c4,Nc7,cxd5,Rd6,e4,Re8,Re1,Nb5,a4,Nd4,Nxd4,cxd4,Rd1,Re7,Qxd4,Qa5,e5,Rb6,d6,Rxe5,b4,Qxa4,Rc1,Qb5,f4,Re6,Rbc2,Rexd6,Rc8+,Be8,Qe3,Re6,Qd4,Qxb4,Qd5,Re1+,Rxe1,Qxe1+,Bf1,Qe3+,Kg2,Rb2+,Kh3,Kg7,Bc4,Qe6+', 'Qxe6,fxe6,Rxe8', 'https://lichess.org/training/PyuHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pyV1j', 'Blitz', 'ChessTurco', 2069, 'CM Floman', 2294, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,Bg5,c6,Qf3,Be7,h3,Be6,Ne2,Re8,Nd4,Qd7,Rfe1,Rab8,b3,h6,Bh4,c5,Nxe6,fxe6,Bg3,Bd6,c4,Bxg3,Qxg3,Rbd8,Re3,Qd6,Qg6,Qf8,Rf3,Qf7,Rxf6', 'Qxf6,Qxf6,gxf6', 'https://lichess.org/training/pyV1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pyVqh', 'Blitz', 'XiangGuo818', 1770, 'Swer40k', 1837, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,c5,Bg5,Nc6,dxc5,Bxc5,Be2,O-O,O-O,Bg4,Bxf6,Qxf6,Nxd5,Qxb2,Rb1,Qxa2,Nc3,Qe6,Re1,Rad8,Qc1,Qf6,Ne4,Qf5,Nxc5,Qxc5,c4,b6,Qc3,Rfe8,Qc2,Re6,Rb5,Qe7,Ng5,Rxe2', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/pyVqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pyw6C', 'Rapid', 'WeebMachine', 1635, 'Almiva', 1602, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Nf3,Nc6,Bc4,e6,O-O,Nf6,Bg5,Be7,Re1,O-O,h3,Ne5,Nxe5,dxe5,Qb3,b6,Rad1,Qc7,Nb5,Qc6,Bxf6,Bxf6,Nd6,Bb7,Nxb7,Qxb7,a4,a5,Qb5,Be7', 'Rd7,Qxd7,Qxd7', 'https://lichess.org/training/Pyw6C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pyWUy', 'Blitz', 'Kastoria', 1580, 'hbudak123', 1583, 'e4,g6,d4,Bg7,Nf3,e6,Bf4,h6,Bc4,b6,e5,Bb7,Nbd2,a6,O-O,b5,Bb3,Qe7,c3,Bxf3,Nxf3,c6,Qd3,g5,Be3,f5,exf6,Nxf6,Ne5,d6,Ng6,Qf7,Nxh8,Bxh8,Rfe1,d5,Qf5,Nbd7,Qf3,O-O-O,c4,bxc4,Ba4,Kc7,b3,Rf8,bxc4,dxc4,Qxc6+,Kd8,Rab1,Nd5,Qa8+,Ke7,Qxa6,Nxe3,Rxe3', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/pyWUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYwzI', 'Rapid', 'peterkans', 1717, 'abdalla37', 1728, 'd4,d5,Bf4,e6,a3,c5,Nf3,Nc6,e3,Bd6,Bxd6,Qxd6,Be2,Nf6,O-O,cxd4,exd4,O-O,c3,Re8,Re1,a6,Nbd2,e5,dxe5,Nxe5,Nxe5,Rxe5', 'Nc4,Qe6,Nxe5', 'https://lichess.org/training/pYwzI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYYCA', 'Classical', 'chessfiend007', 1779, 'RetroKaizen', 1725, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qb6,Nb3,Qc7,O-O-O,b5,Bd3,Bb7,Rhe1,Nbd7,g4,Rc8,Bxf6,Bxf6,g5,Bxc3,bxc3,Qxc3,Re3,Nc5', 'Bxb5+,axb5,Rxc3', 'https://lichess.org/training/pYYCA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pyyCv', 'Blitz', 'LM Rochade_Augsburg', 2278, 'karaceval', 2134, 'Nf3,g6,g3,Bg7,Bg2,d6,O-O,Nc6,c4,e5,d3,Nge7,Nc3,O-O,Rb1,a5,a3,Nd4,e3,Nxf3+,Bxf3,c6,b4,axb4,axb4,d5,b5,f5,bxc6,bxc6,cxd5,e4,dxe4,Bxc3,dxc6,fxe4,Bxe4,Qc7', 'Qb3+,Rf7,Qxc3', 'https://lichess.org/training/pyyCv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pYYcW', 'Rapid', 'legolas1973', 1710, 'Sipo', 1689, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Qd2,Be7,O-O-O,O-O,f3,Nbd7,g4,b5,Nc6,Qe8,h4,Bb7,Nxe7+,Qxe7,h5,Ne5,g5,Nxf3,gxf6,Qxf6,Qg2,Nh4,Qg4,Nf3,Be2,Ne5,Qg3,Rac8,Rdf1,Qe7,Bh6,g6,hxg6,fxg6,Bxf8,Rxf8,Rxf8+,Qxf8,Rf1,Qh6+,Kb1,b4,Nd1,Bxe4,Bxa6,Qd2,Qf2', 'Bxc2+,Ka1,Qc1#', 'https://lichess.org/training/pYYcW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pyykP', 'Rapid', 'aaravanand', 1860, 'GmBobbyFischerr', 2345, 'd4,Nf6,c4,e6,Nf3,Bb4+,Nc3,c5,Bg5,cxd4,Nxd4,Nc6,Nb5,O-O,e3,a6,Nd6,Qa5,Bxf6,gxf6,Rc1,Bxd6,Qxd6,Qe5,Rd1,Rd8,Be2,Qxd6,Rxd6,Kf8,O-O,Ke7,Rfd1,b6,Bf3,Bb7,Na4,Rac8,Nxb6,Rc7,a3,Ne5,Bxb7,Rxb7,f4,Ng4,e4,Ne3,R1d2', 'Rxb6,Rxb6,Nxc4', 'https://lichess.org/training/pyykP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pyyUL', 'Blitz', 'tomvertenoeil', 1942, 'elprofesor1982', 1941, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,Ke7,e4,Bxc3+,bxc3,Re8,e5,Ng8,Qxh7,Kf8,Nf3,d6,Bg5,f6,exf6,gxf6,Bh6+,Nxh6,Qxh6+,Kf7,Bd3,Rg8,O-O,e5,dxe5,dxe5,c5,Qxd3,Nh4,Nc6,f4,Bh3,fxe5,f5,Qf6+,Ke8,Qe6+,Ne7,Rad1,Qe3+,Kh1,Rd8,Rxd8+,Kxd8,Rd1+,Ke8,Qd7+,Kf7,e6+,Kf6,gxh3', 'Qe4+,Nf3,Qxf3#', 'https://lichess.org/training/pyyUL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pyZuY', 'Rapid', 'manuboa', 1773, 'BishopOfBarstow', 1728, 'e4,c5,Nc3,Nc6,Bb5,g6,a4,a6,Bxc6,bxc6,f4,Bg7,d3,d5,e5,Nh6,h3,Nf5,Nf3,d4,Ne4,O-O,Nxc5', 'Qa5+,Bd2,Qxc5', 'https://lichess.org/training/pyZuY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZ0F1', 'Rapid', 'kvflux', 1758, 'Aza94', 1763, 'Nf3,d5,d4,Nf6,c4,e6,Nc3,c5,cxd5,exd5,Bg5,Nc6,e4,Qb6,Bxf6,Qxb2,Nxd5,gxf6,Nc7+,Kd8,Nxa8,cxd4,Rb1', 'Bb4+,Nd2,Bxd2+,Qxd2,Qxb1+', 'https://lichess.org/training/pZ0F1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PZ0gm', 'Rapid', 'manapbk', 1859, 'ACHILLIES220', 1642, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,d3,h6,Nc3,d6,O-O,Be6,h3,Bxb3,axb3,Nb4,Ne2,Be7,c3,Nc6,Ng3,d5,Nf5,Bf8,exd5,Nxd5,c4,bxc4,bxc4,Nde7,Nxe7,Bxe7,Re1,Bd6,d4,O-O,c5,Be7,Nxe5,Nxe5,Rxe5,Bf6,Re4,Qd5,f3,Rae8,Qd3,Re7,Be3,Rfe8,Rxe7,Rxe7,Rxa6', 'Rxe3,Qxe3,Bxd4,Ra8+,Kh7,Qxd4,Qxd4+', 'https://lichess.org/training/PZ0gm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pz11f', 'Classical', 'SuzyBdog', 1806, 'wwwebbb', 1856, 'e4,e5,Nf3,d6,Nc3,c6,Bc4,h6,d4,exd4,Qxd4,Nd7,Bf4,Nb6,O-O-O,Nxc4,Qxc4,Be6,Qd4,Nf6,Bxd6,Bxd6,e5,Bxa2,Nxa2,Qa5,Kb1,Bc5,b4,Qb6,Qxc5,Qxc5,bxc5,Ne4,Rhf1,Nxc5,Nd4,O-O,f4,Rfd8,g4,Ne4,f5,Rd5,e6,Kf8,Rf4,Nf6,Kc1,Rad8,Nc3,Ra5,Nb3,Rxd1+,Kxd1,Re5,exf7,Kxf7,h4,Re3,Ne2,Nd5,Rd4,Rh3,h5,Ne3+,Kc1,Rh2,Kd2,Nxc2,Kxc2,Rxe2+,Kd3,Re7,Na5,Kf6,Nc4,b5,Na5,c5,Rd6+,Kg5,Rg6+,Kf4,Nc6,Rd7+,Kc3,Ke4,Re6+,Kd5,Ne5,b4+,Kb3,Rb7,Nc4,a5,Re5+,Kd4,Re6', 'a4+,Kxa4,Kxc4', 'https://lichess.org/training/pz11f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZ6Ta', 'Classical', 'lucky1130', 1805, 'ruslya007', 1840, 'e4,e6,d4,d5,exd5,exd5,Qe2+,Be6,Qb5+,Nd7,Nc3,Nf6,Bg5,h6,Bxf6,Qxf6,Nxd5,Bxd5,Qxd5,Bd6,Nf3,O-O,Bd3,c5,dxc5,Rae8+,Kf1,Nxc5,Re1,Rxe1+,Nxe1,Nxd3,Nxd3,Rd8,Qxb7,Qe6,Qxa7,Rc8,Qe3,Qxa2,Qd2,Qb1+,Qc1,Qxc2,Qxc2,Rxc2,g3,Be7,Kg2,Bf6,Rb1,Rd2,Nf4,Bxb2,h4,Bd4,Rf1,Kh7,Kf3,g5,hxg5,hxg5,Nh3,Kg6,Kg4', 'f5+,Kf3,g4+,Kg2,gxh3+', 'https://lichess.org/training/pZ6Ta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZ6VV', 'Blitz', 'QubitTAjedrez', 1906, 'Binyaminschien', 1924, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,h3,Nxe4,dxe4,Bxf2+,Ke2,Qh4,Qd2,Be6,Qf4,O-O-O,Qxh4,Bxh4,Kf3,f5,e5,g5,Nc3,g4+,hxg4,fxg4+,Ke2,Bc4+,Ke3,Bg5+,Kf2,Rhf8+,Ke1', 'Bh4+,Rxh4,Rxf1#', 'https://lichess.org/training/pZ6VV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZ6Yl', 'Classical', 'Duscian', 2000, 'ahmedsameh99', 1916, 'g3,e6,c4,a6,Bg2,c6,Qb3,d5,cxd5,cxd5,Nc3,Nf6,d4,h6,e3,Nc6,Nge2,Bd6,O-O,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,f5,Bxf5,Rxf5,Bf4,Bxf4,Nxf4,Nxd4,Rad1,Qf6,Qb6,Nc6,Rfe1,Rg5,Qc7,Kh7,Ng2,Nd4,Nh4,Rg4,Kg2,Qxh4,Rxd4,Qg5,Rd8,Qf6,Rxc8,Rxc8,Qxc8,Qxb2,Qxe6,Rg6,Qf5,Qxa2,Re8,b5,h4,Qc4,Rf8,Qxh4', 'Qxg6+,Kxg6,gxh4', 'https://lichess.org/training/pZ6Yl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pz8vC', 'Blitz', 'johnnyhoang', 1981, 'Baja964', 1989, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,Bg5,Nbd7,Qd2,a6,Bh6,Ne5,Bb3,b5,a3,c5,Nf3,c4,Ba2,Nxf3+,gxf3,Be6,Bxg7,Kxg7,Rad1,Bh3,Rfe1,Nh5,Ne2,Qf6,Qd4,Qxd4,Rxd4,Rad8,Red1,Nf6,Rxd6,Ra8,Nf4,Bc8,Nd5,Ne8,Rd8,Bb7,Rxa8,Bxa8,b3,Nd6,e5,cxb3,cxb3,Nf5,Nc7,Bb7,b4,Nh4,e6,Nxf3+,Kf1,Nxh2+,Ke2,Bf3+,Ke1,Bxd1,Kxd1,Rd8+,Ke2,Rc8', 'e7,Ng4,e8=Q,Rxe8+,Nxe8+', 'https://lichess.org/training/Pz8vC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZbHm', 'Blitz', 'IM mostrovski', 2608, 'Geroniman', 2476, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,a3,Nge7,b4,cxd4,cxd4,Nf5,Bd3,Nfxd4,Nxd4,Nxd4,O-O,a5,Bb2,Nc6,b5,Ne7,Nd2,Ng6,f4,a4,Bd4,Be7,Qh5,Qa5,Nf3,Bxb5,Bxb5+,Qxb5,Rab1,Qd7,f5,exf5,e6,fxe6', 'Ne5,Bf6,Nxd7', 'https://lichess.org/training/pZbHm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PzBI3', 'Rapid', 'davichess24', 1685, 'vicsailors', 1693, 'e4,c5,f4,g6,g4,Bg7,d3,Nf6,Nc3,d5,e5,Bxg4,Be2,Bxe2,Qxe2,Nfd7,Nxd5,Nc6,Nf3,e6,Nf6+,Nxf6,exf6,Qxf6,O-O,Nd4,Nxd4,Qxd4+,Kh1,Qd5+,Kg1,Bd4+,Be3,Bxb2', 'c4,Qf5,Qxb2', 'https://lichess.org/training/PzBI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pzc5l', 'Rapid', 'Malatestabr', 1601, 'forking_looser', 1930, 'e4,e5,a3,Nf6,Nc3,Bc5,d3,d5,exd5,c6,Be3,Bxe3,fxe3,Ng4,Qf3,Qb6,O-O-O,Nxe3,Re1,Nxd5,Nxd5,cxd5,Qxd5,Be6,Qxe5,O-O,Nf3,Nc6,Qe4,Rfe8,Qh4,Na5,Ng5,h6,Nxe6,Rxe6,Rxe6,Qxe6,Qb4,Qa2,Qxa5,Qa1+,Kd2,Re8,Kc3', 'Qe1+,Kb3,Qxa5', 'https://lichess.org/training/Pzc5l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pzEPK', 'Rapid', 'ryanswo07', 1726, 'raj7saggi', 1728, 'c4,e5,Nc3,Nf6,g3,Be7,Bg2,d6,Nf3,a6,O-O,Be6,b3,O-O,d4,exd4,Nxd4,Bc8,Bb2,Nbd7,e4,h6,Re1,Ne5,h3,Bd7,f4,Ng6,e5,dxe5,fxe5,Nh7,e6,fxe6,Nxe6,Bxe6,Rxe6,Bc5+,Kh1,Qg5,Bd5,Kh8,Ne4,Qf5,Nxc5', 'Qxh3+,Kg1,Qxg3+', 'https://lichess.org/training/pzEPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PZeWP', 'Blitz', 'Nurgaz', 2133, 'Russman9999', 1722, 'd4,e6,c4,Be7,Nc3,c6,Bf4,b6,e3,Bb7,Nf3,a5,Be2,Na6,O-O,g6,Rc1,h5,h3,Nh6,Be5,f6,Bg3,Kf7,Nd2,c5,f3,Nb4,a3,Na6,e4,f5,d5,Ng4,fxg4,hxg4,hxg4,Bh4,Be5,Bf6,Bxf6,Qxf6,exf5,gxf5,gxf5,e5,Bf3,Rag8,Nde4,Qh4,Nd6+,Kf6,Nxb7,Rg7,Ne4+,Ke7,d6+,Ke8,f6,Rgh7,f7+,Kf8,Qe1,Qf4,Qg3', 'Qe3+,Qf2,Rh1#', 'https://lichess.org/training/PZeWP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pzFC0', 'Rapid', 'Nguyenthephong', 1960, 'Atomphysik', 1942, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Bd3,Be7,Qd2,h6,Bh4,Qb6,a3,Qxd4', 'Bb5+,axb5,Qxd4', 'https://lichess.org/training/pzFC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pzFlj', 'Rapid', 'lalmicharaf', 1828, 'meljnichenko', 1877, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Be2,Bg4,h3,Bh5,O-O,e6,d4,c6,Bd2,Qc7,Ne5,Bg6,Bf4,Bd6,Nxg6,hxg6,Bxd6,Qxd6,a4,O-O,a5,Nbd7,f3,Rfd8,Ne4,Nxe4,fxe4,Nc5,dxc5', 'Qxc5+,Rf2,Rxd1+', 'https://lichess.org/training/pzFlj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZfVN', 'Rapid', 'Arda5858', 1633, 'Evgen_chess21', 1607, 'c4,c6,Nc3,d5,cxd5,cxd5,Nf3,Bg4,g3,Bxf3,exf3,a6,Bg2,e6,O-O,Nf6,d4,Nc6,f4,Qb6,Ne2,Be7,Qb3,Qxb3,axb3,b5,f5,g6,fxe6,fxe6,Bf4,Rc8,Rxa6,Nb4,Rxe6,Nd3,Bg5,Kf7,Bxd5', 'Nxd5,Rxe7+,Nxe7', 'https://lichess.org/training/pZfVN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PzGdr', 'Blitz', 'VadimirStark', 1856, 'AJJORII', 1868, 'e4,c5,Bc4,Nc6,Nf3,e6,d4,d5,c3,dxc4,d5,Nb8,Qa4+,Nd7,Qxc4,Qf6,e5,Nxe5,Nxe5,Qxe5+,Be3,Bd6,dxe6,Bxe6,Qb5+,Bd7,Qxb7,Rb8,Qxa7,Rxb2,Nd2,Ne7,a4,O-O,a5,Qxc3,Qxd7,Rxd2,O-O,Rd3,Qb5,Nd5,a6,Nxe3,fxe3,Rxe3,a7,Qd4,Kh1,Qe5,g3,Qe4+,Kg1,Qd4,a8=Q,Ra3+,Kg2,Raxa8,Rxa8,Rxa8,Qc6,Ra2+,Kh1,Qd2', 'Qe8+,Bf8,Qxf7+,Kh8,Qxf8#', 'https://lichess.org/training/PzGdr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PZGy6', 'Rapid', 'omne', 2129, 'CaptNCarter', 2028, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,e6,g3,Nbd7,b3,Bd6,Bg2,O-O,O-O,dxc4,bxc4,e5,e3,exd4,exd4,c5,Nb5,Be7,d5,a6,Nc3,Nb6,Qb3,Bf5,Re1,Bd3,Bf1,Bxf1,Kxf1,Bd6,a4,Qc7,Bg5,Nbd7,Ne4,Nxe4,Rxe4,Ne5,Nxe5,Bxe5,Rb1,Rab8,Bf4,Bxf4,Rxf4,Rfe8,Qb6,Qxb6,Rxb6,f6,f3,Re3,Re4,Rxf3+,Kg2,Ra3,d6,Kf8,d7,Rxa4,Rxb7,Rd8,Rc7,Ra2+,Kh3,Rb2', 'Rc8,Kf7,Rxd8', 'https://lichess.org/training/PZGy6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pzHga', 'Rapid', 'marikirisa', 1861, 'Wiesbaden72', 1868, 'd4,b5,e4,a6,c4,bxc4,Bxc4,Bb7,Nc3,e6,a3,d5,exd5,exd5,Bb3,g6,Nf3,Bg7,O-O,Nf6,Re1+,Ne4,Nxe4,dxe4,d5,f5,Ng5,Bc8,Ba4+,Bd7,Ne6,Qe7,Nxc7+,Kf7,Bxd7,Nxd7,Nxa8,Rxa8,d6,Qe6,Rb1,Be5,Kh1,Bxd6,f3,Qe5,Qb3+,Kg7,g3,Nc5,Qc3,Re8,Bf4,Qxc3,bxc3,Bxf4,gxf4,e3,Rb6,Nd3,Rb7+,Kh6,Re2,Nxf4,Re1,e2,Rb2,Nd3,Rexe2,Rc8,Rb6,Rxc3,Rxa6', 'Rc1+,Kg2,Nf4+,Kf2,Nxe2', 'https://lichess.org/training/pzHga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PZhgw', 'Rapid', 'dobchinsky', 1721, 'xadrez_maicom', 1636, 'e4,b6,d4,Bb7,Bd3,Nf6,Nc3,e6,Nf3,Bb4,e5,Nd5,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,Nc6,Be4,Qe7,O-O,O-O-O,a4,a5,Re1,f5,exf6,gxf6,d5,Ne5,Nxe5,fxe5,Re3,Rdg8,dxe6,Bxe4,Rxe4,h5,Rxe5,d6,Re3,Qg5,Qf3,h4,h3,Kb8,Rae1,Rf8,Qg4,Qe7,Rf3,Rfg8,Qe4,Rg7,Rf7,Qg5,Rxg7,Qxg7,e7,Re8,Qd4,Qg6,Qxh4,Kb7,Qe4+,Qxe4,Rxe4,Kc6,h4,Kd7,h5,Rxe7,Rxe7+,Kxe7,g4,Kf6,f4,c6,Kf2,b5,g5+,Kg7,axb5,cxb5,h6+,Kg6,f5+,Kh7,f6,Kg6,Kf3', 'a4,f7,Kxf7', 'https://lichess.org/training/PZhgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PzhLu', 'Rapid', 'TMH77', 1930, 'Mrreg', 1903, 'd4,d5,c4,e6,e3,Nf6,Nc3,b6,Nf3,Bb7,Ne5,Be7,Qa4+,Nbd7,Nc6,Qc8,Nxe7,Kxe7,cxd5,Nxd5,Nxd5+,Bxd5,b3,Re8,Ba3+,c5,dxc5,Nxc5,e4,Bc6,Qc4,Kf8,Bxc5+,bxc5,Qxc5+,Kg8,Bd3,Rd8,Rd1,Qb7,f3,Rac8,Qg5,Qb4+,Qd2,Qd4,Qf2', 'Qc3+,Qd2,Rxd3,Qxc3,Rxc3', 'https://lichess.org/training/PzhLu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pzhXO', 'Rapid', 'Animesh_2021', 1971, 'HOBHOB80', 2016, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,Qe7,Be2,Bg4,O-O,Nd7,Re1,O-O-O,d5,Re8,Bd3,Bf5,Bg5,f6,Bf4,Ndc5,Nc3,Qf7,a4,g5,Bg3,h5,h3,g4,Nh4,Bh7,Nxe4,Nxe4,c4,gxh3,gxh3,Rg8,Kh2,f5,Bxe4,f4,Bxh7,fxg3+,fxg3,Qf2+,Kh1,Rxg3,Rxe8+,Kd7,Bf5+,Kxe8,Qxh5+,Kd8,Qf7', 'Rxh3+,Bxh3,Qxf7', 'https://lichess.org/training/pzhXO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZIiY', 'Classical', 'Alfred_Bourdon', 1669, 'jaitan', 1699, 'e4,e6,d4,d5,exd5,exd5,c4,c6,Nf3,Nf6,Nc3,h6,Be2,Bd6,c5,Bc7,O-O,b6,Re1,O-O,Be3,bxc5,dxc5,Ba6,Bxa6,Nxa6,Qa4,Qc8,Qxc6', 'Bxh2+,Nxh2,Qxc6', 'https://lichess.org/training/pZIiY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZinQ', 'Rapid', 'Nobrega46', 1787, 'kapablanka1911', 1785, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,b5,a3,Bb7,f3,e6,Be2,Be7,O-O,Nc6,Nb3,O-O,Qe1,Rc8,Nd2,d5,exd5,Nxd5,Nxd5,exd5,Rd1,Qe8,Qf2,Bf6,c3,Rd8,Nb3,Ne5,Nd4,Nc4,Bxc4,dxc4,Rfe1,Rd7,Qg3,Qd8,Bh6,Kh8,Nf5,Rxd1', 'Bxg7+,Bxg7,Qxg7#', 'https://lichess.org/training/pZinQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZIYd', 'Rapid', 'MaxEve', 1999, 'geartwo', 2055, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,exd6,e6,Nc3,Bxd6,Nxd5,exd5,Bb5+,Bd7,Qe2+,Be7,Nf3', 'Qa5+,Bd2,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/pZIYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PziZG', 'Bullet', 'cjdesign', 1933, 'jurehanzelic', 1873, 'd4,g6,Nf3,Bg7,e4,d5,e5,f6,Bd3,fxe5,dxe5,Nc6,Bf4,e6,O-O,Nge7,Bg5,O-O,Re1,Qe8,Qd2,Nf5,Bxf5,Rxf5,Bh6,Nxe5,Nxe5,Bxe5,Nc3,c5,f4,Bg7,Bxg7,Kxg7,g4,Rf7,Nxd5,Qc6', 'Qc3+,Kg8,Nf6+,Rxf6,Qxf6', 'https://lichess.org/training/PziZG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PZJFf', 'Classical', 'hyena-abc', 1612, 'thejace', 1645, 'd4,Nf6,e3,g6,a3,Bg7,Nc3,O-O,h3,d6,Bd3,e5,dxe5,dxe5,e4,Nc6,Be3,Nd4,Qd2,c5,Bh6,a6,Bxg7,Kxg7,Nce2,b5,Nxd4,cxd4,Nf3,Nd7,O-O,Bb7,a4,Nc5,b3,Nxe4,Bxe4,Bxe4,Nxe5,Qd5,Nf3,Bxf3,gxf3,Qxf3,Qxd4+,Kg8,Qg4,Qc3,Rac1,bxa4,Qxa4,Qxh3,Rfe1,Qf5,Re3,Rfc8,c4,h5,Rce1,Qg5+,Rg3,Qf4,Qa5,h4,Qg5,Qxg5,Rxg5,Rab8,Re3,Rb4,Rg4,Rcb8,Rxh4,Rxb3,Ree4,Rc8,Kg2,a5,f3,Rc3,Kg3,a4,c5,a3,Ra4,R8xc5,Rh2,Rb5,Ra2,Rbb3,Rf2,Rb2,Rxb2', 'axb2,Rb4,Rc2', 'https://lichess.org/training/PZJFf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PzJgH', 'Rapid', 'Baluk', 1637, 'mcskhazaei', 1613, 'd4,c5,c3,Nf6,Nf3,Nc6,e3,cxd4,cxd4,d6,Bd3,e5,dxe5,dxe5,e4,Bc5,O-O,O-O,a3,Qb6,h3,Nh5,Nc3,Nf4,Bxf4,exf4,Rb1,Nd4,Ne5,f6,Nc4,Qe6,Nd5,Bd6,f3,a6,Re1,b5,Nxd6,Qxd6,Bf1,Ne6', 'Nxf6+,gxf6,Qxd6', 'https://lichess.org/training/PzJgH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PzJrM', 'Rapid', 'alfierelebez', 1924, 'TJK125HQF', 2069, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Nf3,Nc6,O-O,Be6,Re1,f6,d4,Bd6,dxe5,Bxe5,Nxe5,fxe5,Qf3,Nd4,Qh5+,Kd7,Qxe5,Qf6,Qxf6,gxf6,Na3,Rhg8,c3', 'Nf3+,Kh1,Nxe1', 'https://lichess.org/training/PzJrM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pzjTU', 'Rapid', 'GrafAnko', 1941, 'Osipov-Belayberezka', 2021, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,e6,f3,Bb4,Be3,O-O,Bd3,Nh5,Ne2,Qh4+,g3,Qh3,a3,Bxc3+,bxc3,f5,exf5,exf5,Bc4+,Kh8,Qd2,f4,Nxf4,Nxf4,Bxf4,Re8+,Kf2,Nc6,Bxc7,Bf5,Rae1,Qh5,Re3,Rf8,Bf4,g5,Be5+,Nxe5,Rxe5,Be4,Rxe4', 'Qxf3+,Kg1,Qxe4', 'https://lichess.org/training/pzjTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZmQ1', 'Classical', 'Yuri974', 1933, 'Jean_Valjean9', 1947, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bg5,Be7,Ng3,c5,dxc5,Nxc5,Bb5+,Bd7,Bxd7+,Qxd7,Qxd7+,Ncxd7,O-O-O,h6,Bf4,O-O,Bd6,Bxd6,Rxd6,Nb6,Rhd1,Nfd5,Ne5,Rfd8,Ne4,f5,Rxd8+,Rxd8,Nc5,Rb8,Nxe6', 'Re8,Nc5,Rxe5', 'https://lichess.org/training/pZmQ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PZN0M', 'Blitz', 'IM viachessmaster', 2456, 'jarda', 2195, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,c5,Bd3,b6,Ne2,Bb7,a3,Ba5,O-O,O-O,Rb1,Qe7,Na4,Nc6,Bc2,d5,cxd5,exd5,b3,Rfe8,Bb2,Rad8,Bd3,Ne4,Bb5,a6,Bd3,c4,Bxe4,dxe4,b4,Ne5,bxa5,Nf3+,Kh1,Qh4,gxf3,exf3,Nf4,Rd6,Rg1,Rh6,h3', 'Qxh3+,Nxh3,Rxh3#', 'https://lichess.org/training/PZN0M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PZP3d', 'Rapid', 'AhmedAyad', 1912, 'kiarash1', 1867, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,O-O,Bg4,h3,Bh5,Nbd2,Nd7,Re1,Qf6,Qb3,Na5,Qa4,Bb6,Bd5,c6,Bb3,Nxb3,Qxb3,Nc5,Qc2,O-O,d4,exd4,cxd4,Ne6,e5,dxe5,dxe5,Qe7,Nc4,Bxf3,Nxb6,axb6,gxf3,Nd8,Qe4,b5,Qg4,Ra4,Qg3,Ne6,Bh6,Rh4,Bd2,f5,exf6,Qxf6,Bc3,Nd4,Bxd4,Qxd4,Rad1,Qf6,Re4,Rxe4,fxe4,Qxb2,Rd7,Qc1+,Kh2,Qf4', 'Rxg7+,Kh8,Rg8+,Rxg8,Qxf4', 'https://lichess.org/training/PZP3d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pzrGl', 'Rapid', 'GSemenov', 1805, 'dahirkarshe', 1702, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d3,e5,Bg5,Bb4,Qd2,e4,Nd4,exd3,Bxd3,O-O,Bxf6,Re8+,Nde2,gxf6,O-O,Nc6,Qh6,Bf5,Qxf6,Bxd3,cxd3,Re6,Qf4,Bd6,Qg4+,Rg6,Qf3,Ne5,Qxb7,Rf8,Ne4,Nxd3,Nxd6,cxd6,Rad1,Ne5,Qe7,Qb6,Nf4,Rg4,Nh5,Kh8,Rxd6,Qb5,Qxf8+,Rg8,Rd8', 'Nf3+,Kh1,Qxf1#', 'https://lichess.org/training/pzrGl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PzSRA', 'Rapid', 'tricatok', 2181, 'MYMChessIan', 2173, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,b4,Bxb4,c3,Be7,d4,d6,d5,Na5,Bd3,c6,c4,cxd5,cxd5,Bd7,Re1,O-O,Nbd2,b5,Nf1,Nc4,h3,Rc8,g4,Nxg4,hxg4,Bxg4,N1h2,Bh5,Kh1,Qd7,Rg1,f5,exf5,Rxf5,Be2,Rcf8,Bh6,Rxf3,Rxg7+,Kh8,Bxf3,Rxf3,Nxf3', 'Qh3+,Nh2,Bxd1', 'https://lichess.org/training/PzSRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Pztkf', 'Blitz', 'Tiwiz9', 1776, 'RomanovRG', 2137, 'e4,e5,Nc3,Nc6,Bc4,Nf6,f4,d6,Nf3,Be7,O-O,O-O,d3,a6,f5,b5,Bb3,Na5,Qe1,Nxb3,axb3,Bb7,Qg3,Nd7,Bh6,Bf6,Be3,Kh8,Nd5,Bxd5,exd5,b4,Ng5,Bxg5,Bxg5,f6,Be3,Qe8,Qh4,Qf7,Rf3,Rg8', 'Qxh7+,Kxh7,Rh3+,Qh5,Rxh5#', 'https://lichess.org/training/Pztkf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PzTpJ', 'Rapid', 'Foolcrow', 1698, 'Chronopause', 1713, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,e5,f5,Nf6,Bc4,Nxe4,Nxe4,Bxf5,Nfg5,d5,Nxf7,Kxf7,Qf3,Nd4,Bxd5+,Qxd5', 'Ng5+,Kf6,Qxd5', 'https://lichess.org/training/PzTpJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PzuCn', 'Rapid', 'byoin', 2169, 'cplyakap1905', 2202, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qh5,Nxe4,Be7,Ng3,Qd5,c4,Qxc4,Bg5,Be6,Rc1,Qxa2,Rxc6,bxc6,Bxe7,Kxe7,Nxd4,Rhe8,Nxe6,fxe6,Qf3,Qd5,Nf5+,Kf8,Qa3+,c5,Ne3,Qc6,Rc1,Kg8,Rxc5,Qd7,Qc3,Rac8,h3,Qf7,Ng4,Rf8,Rg5,h6', 'Nxh6+,Kh7,Nxf7', 'https://lichess.org/training/PzuCn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZunI', 'Rapid', 'Dtronn', 1791, 'Azrael_Nate_Sidis', 2099, 'd4,g6,Nc3,e6,e4,Bg7,e5,f6,Nf3,fxe5,dxe5,Ne7,Bg5,O-O,h4,Nbc6,h5,Nxe5,Nxe5,Bxe5,hxg6,hxg6,Qd2,d5,Bd3,Qd6,Bxe7,Qxe7,Bxg6,Qf6,Bh7+,Kf7,O-O-O', 'Bf4,Qxf4,Qxf4+', 'https://lichess.org/training/pZunI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PzvCH', 'Rapid', 'Romario1982', 1872, 'Barotekk', 1760, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Ba6,Re1,Nf6,c3,Rb8,Qa4,Rb6,d4,exd4,cxd4,Qc8,Nc3,Bb7,Qxa7', 'Ra6,Qxa6,Bxa6', 'https://lichess.org/training/PzvCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('PZW74', 'Rapid', 'rava_afshin', 1715, 'adilah', 1836, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,c3,Na5,Qxd4,Nxc4,Qxc4,d6,O-O,Be7,e5,d5,Qb3,Bc5,Na3,Ne7', 'Qb5+,c6,Qxc5', 'https://lichess.org/training/PZW74');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pzWPy', 'Rapid', 'chtakchtak', 1601, 'MeDickhead', 1715, 'e4,e5,Nf3,Nc6,Bc4,a6,O-O,Bc5,d3,d6,Be3,Bg4,Bxc5,dxc5,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,Nd2,Nd4,c3,b5,Bb3,Ne2+,Kh1,Nf4,Nf3,Nxd3,Rad1,c4,Bc2,O-O-O,Bxd3,cxd3,Nxe5,Nxe4,Nxf7,Nxf2+,Rxf2,Rhf8,Rdf1,Rd7,Ne5', 'Rxf2,Rxf2,d2,Nxd7,d1=Q+', 'https://lichess.org/training/pzWPy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pzxnB', 'Rapid', 'yanaaa', 1734, 'abolith', 1863, 'e4,g6,Nc3,Bg7,Nf3,d6,h3,a6,Be2,Nc6,O-O,Ne5,d4,Nxf3+,Bxf3,e5,dxe5,Bxe5,Rb1,f5,exf5,Bxf5,Ne4,Nf6,Bg5,O-O,Nxf6+,Bxf6,Bxf6,Qxf6,Be2,c6,Bd3,d5,Bxf5,Qxf5,b3,Rf6,c4,d4,Qxd4,Raf8,Rb2,Qg5,c5,Rf4,Qd7,Qxc5,Qe6+,R4f7,Rd2,b5,Rd7,a5,Re1,Qxf2+,Kh1,Qf5,Rxf7,Qxe6', 'Rxf8+,Kxf8,Rxe6', 'https://lichess.org/training/pzxnB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pzXRd', 'Rapid', 'apollo017', 1967, 'khoshdel', 1865, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,c6,Bd3,Be7,e5,Ng8,e6,Bf6,exf7+,Kxf7,Bc4+,d5,Qf4,dxc4,O-O,Be6,Ne4,Nh6,Re1,Bd5,Nd6+,Kg6,Qg3+,Kh5,Bxh6,gxh6,Rad1,Rg8,Qh3+,Kg6,Qg3+,Kh5,Qh3+,Kg6,Qg3+,Bg5,h4,Qf6,hxg5,hxg5,Nxb7,h5,Nc5,h4,Qg4,Kh6', 'Rxd5,cxd5,Re6', 'https://lichess.org/training/pzXRd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('pZZDt', 'Rapid', 'aquabela', 1668, 'horest', 1645, 'e4,c6,d4,d5,e5,Bf5,c4,e6,Nf3,Ne7,Bg5,Nd7,Nh4,Qb6,b3,dxc4,Bxc4,Rd8,Nxf5,exf5,f4,Nc5,O-O,Ne4,Kh1,Rxd4,Qh5,g6,Qh4,Nxg5,Qxg5,Nd5,Bxd5,Rxd5,Qf6,Rg8,Nc3,Rd4,Rad1,Be7,Nd5,Rxd1', 'Qxe7#', 'https://lichess.org/training/pZZDt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q04qb', 'Rapid', 'charlesluis', 1866, 'james001', 1914, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,Be7,Nc3,Nf6,d3,O-O,a3,Be6,Nd5,Bxd5,exd5,Nb8,Ba2,c6,dxc6,Nxc6,O-O,d5,c3,Qc7,Re1,Rad8,Bg5,e4,Nh2,exd3,Qxd3,Ne5,Qg3,Bd6', 'Bxf6,Ng6,Bxd8', 'https://lichess.org/training/Q04qb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q07CN', 'Rapid', 'Zoonn', 2099, 'barsuk80', 1948, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Be3,c5,f4,Nc6,Nf3,a6,Ne2,b5,g3,Be7,Bh3,O-O,O-O,c4,c3,f5,exf6,Nxf6,Ng5,Qd6,f5,e5,dxe5,Nxe5,Nd4,h6,Nge6,Rf7,Bf4,Nfd7,Qe2,Bf6,Rae1,Bb7,g4,Re8,Bg2,Ba8,Qf2,Qe7,Re2,Nd3,Qg3,Nxf4,Qxf4,Rc8,Nxg7', 'Bxd4+,cxd4,Qxe2', 'https://lichess.org/training/q07CN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q07JU', 'Rapid', 'konst2013', 2086, 'samirsahista', 2036, 'e4,e6,d4,d5,Nd2,Nf6,Bd3,a6,Ngf3,b6,O-O,Bb7,Re1,Be7,e5,Ng4,h3,Nh6,Nf1,Nc6,Bxh6,gxh6,c3,Qd7,Qd2,O-O-O,Qxh6,Rdg8,Ng3,Na5,Nd2', 'Bg5,Qh5,Bxd2', 'https://lichess.org/training/q07JU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q07mQ', 'Blitz', 'CM arvids_andrejevs', 2338, 'Anatolij72', 2000, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,g6,Be3,Bg7,h3,O-O,Nf3,Nc6,Qd2,Bd7,Be2,Qa5,O-O,Rfc8,Bh6,Bh8,Rad1,Nb4,a3,Nc6,e5,dxe5,dxe5,Nxe5,Nd5,Nxf3+', 'Bxf3,Qxd5,Bxd5', 'https://lichess.org/training/Q07mQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q08RQ', 'Classical', 'EMAD_13881612', 1807, 'topcatbenito', 1795, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Be3,Bxd4,Bxd4,O-O,e5,Re8,Be2,Nxe5,O-O,d6,f4,Nc6,Bb5,Bg4', 'Bxf6,Bxd1,Bxd8', 'https://lichess.org/training/Q08RQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q09eT', 'Classical', 'maxivgc', 1649, 'khalednady', 1802, 'c4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,d3,Nf6,e4,d6,Nge2,O-O,Be3,a6,O-O,Re8,Qd2,e5,f4,Nd4,f5,Bd7,Nd5,Nxd5,cxd5,Rc8,Nxd4,cxd4,Bg5,Qb6,Bh6,Rc7,Bxg7,Kxg7,f6+,Kh8,Qh6,Rg8,g4,Qxb2,Rab1,Qe2,Rf3,Rc2', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/Q09eT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q0bd9', 'Rapid', 'aviskonem', 1720, 'henriquefacundes', 1739, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Bg4,Nbd2,Ne7,c3,O-O,O-O,Nd7,Qc2,Ng6,h3,Be6,Ng5,h6,Nxe6,fxe6,Nf3,Ne7,Nh4,c6,Bh7+,Kh8,Bd3,Nf6,Be3,Qc7,Qd2,Nf5,Ng6+,Kg8,Bxf5,exf5,Nxf8,Rxf8,f4,Ne4,Qc2,g5,fxg5', 'Bh2+,Kh1,Ng3+,Kxh2,Nxf1+,Kg1,Nxe3', 'https://lichess.org/training/Q0bd9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q0caH', 'Classical', 'Checker64', 1946, 'Amo_0', 1995, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,d5,e3,Nbd7,c3,c6,b4,a5,b5,a4,Bd3,Qa5,bxc6,bxc6,Qc2,Ba6,O-O,O-O,Rab1,Rfb8,Rfc1,h6,Bf4,Bxd3,Qxd3,Rxb1,Rxb1,Nh5,Bg3,Nxg3,hxg3,e5,dxe5,Nxe5,Nxe5,Bxe5,c4,Rd8,Nf3,Bf6,cxd5,Rxd5,Qc4,Rc5,Qe4,Qa7', 'Qe8+,Kg7,Rb8', 'https://lichess.org/training/Q0caH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q0fnm', 'Classical', 'nomixxx', 1886, 'ramci07', 1891, 'e4,c5,Nf3,d6,c3,Nf6,Qc2,Nc6,d4,cxd4,cxd4,a6,Nc3,e6,h3,Be7,a3,O-O,Bd3,h6,O-O,Bd7,Be3,b5,e5,dxe5,dxe5,Nd5,Nxd5,exd5,Qd2,f5,exf6,Rxf6,g4,Rxf3,Bxh6,gxh6,Qxh6,Rf7,Bg6,Ne5,Bxf7+,Nxf7,Qg6+,Kf8,Qd3,Be6,Rfe1,Qd6,Re2,Rc8,Rae1,Ng5,f4,Qxf4,Rf2,Bc5,Rf1,Bxf2+,Rxf2,Rc1+,Kg2,Qxf2+,Kxf2,Ne4+,Kg2,Rc7,Qf3+,Rf7,Qe3,Rf2+,Kg1,Rxb2', 'Qh6+,Ke7,Qg7+,Kd6,Qxb2', 'https://lichess.org/training/Q0fnm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q0g7Y', 'Rapid', 'Totoro07', 1956, 'Jodipane', 1881, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Nc6,Bg5,h6,Bh4,e6,c3,Be7,Nbd2,O-O,Qc2,Qc7,Bg3,Bd6,O-O-O,a5,Rde1,a4,Qd1,Qd7,Ne5,Qe7,f4,Rb8,Bb5,Bd7,Bxa4,Nxd4,cxd4,b5,Bb3,Bb4,Kb1,Ne4,Nxe4,Bxe1,Qxe1,dxe4,Qxe4,Rfc8,Bc2,f5,Qd3,Bc6,Nxc6,Rxc6,Bf2,Rbc8,Bb3,Qd6,Qxf5,Kh8,Qe5,Qb4,g4,Qd2,Qe3', 'Rc1+,Rxc1,Rxc1#', 'https://lichess.org/training/q0g7Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q0HGe', 'Rapid', 'vitruvio', 1658, 'Kiran_09', 1904, 'e4,c5,Bc4,e6,f4,Nc6,Nf3,d5,exd5,exd5,Be2,Nf6,h3,Bd6,d3,Be6,Nc3,Qd7,Bd2,Nh5,Nb5,Bxf4,Bxf4,Nxf4,Bf1,O-O-O,Qd2,Ng6,a4,Rhe8,O-O-O,a6,g4,axb5,axb5,Na7,b6,Nc6,c3,Na5,Qc2,c4,dxc4,Qc6,c5,d4,Nxd4,Qxh1,Bg2,Qh2', 'Bxb7+,Kxb7,Qxh2', 'https://lichess.org/training/Q0HGe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q0M9h', 'Rapid', 'Ronx', 1697, 'Winterhornist', 1708, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,d6,Bb5,Bxf5,exf5,h5,Nc3,Qd7,Bg5,Qxf5,Qd2,Be7,Be3,Nf6,O-O-O,O-O-O,Bxc6,bxc6,Bxa7,d5,Na4,Ng4,f3', 'Bg5,fxg4,Bxd2+', 'https://lichess.org/training/Q0M9h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q0Mnp', 'Rapid', 'JoernWindeck', 2078, 'anatolii50', 2040, 'd4,Nf6,c4,e6,Nc3,c5,d5,d6,e4,exd5,cxd5,Na6,Bxa6,bxa6,Nge2,Qa5,Qa4+,Qxa4,Nxa4,Nxe4,O-O,Bd7,Nac3,Nf6,Bg5,Be7,Rfe1,O-O,Nf4,Rfe8,Bxf6,Bxf6,Ne4,Be5,Nd3,Rab8,Nxe5,Rxe5,Nxc5', 'Rxe1+,Rxe1,dxc5', 'https://lichess.org/training/Q0Mnp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q0Rgf', 'Rapid', 'Ekbert', 1635, 'polsuza', 1839, 'd4,Nf6,Nf3,g6,e3,Bg7,Bd3,O-O,c4,d6,b4,Bg4,Nbd2,Nbd7,O-O,Re8,Re1,e5,dxe5,Nxe5,Qc2,Nxf3+,gxf3,Bh3,Kh1,Nh5,Bb2,Nf6,Rg1,Qd7,Rg3,Re7,Bxf6,Bxf6,Rag1,Bh4,Ne4,Bxg3', 'Nf6+,Kg7,Nxd7', 'https://lichess.org/training/Q0Rgf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q0RQc', 'Rapid', 'mJay123', 1908, 'GloriaCeleste', 1997, 'd4,g6,c4,Bg7,Nc3,d6,e4,Nc6,Nf3,Bg4,Be3,e5,d5,Nd4,Be2,Nxe2,Qxe2,Nf6,h3,Bd7,Rc1,O-O,b4,Nh5,c5,Nf4,Qf1,f5,g3,Nh5,Qe2,fxe4,Nxe4,a6,O-O,Bb5,Qd1,Bxf1,Kxf1,Nf6,Neg5,Re8,Ne6,Rxe6,dxe6,Qe7,cxd6,cxd6,Ng5,h6,Nf3,Qxe6,Rc7,Qxh3+,Ke2,e4,Qb3+,Kh7,Nd4,Ng4,Qf7,Rg8,Ne6,Ne5,Nf8+,Kh8,Nxg6+,Nxg6,Qxg6,Qh1,Rxb7,Qf3+,Kd2', 'Bc3+,Kxc3,Rxg6', 'https://lichess.org/training/q0RQc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q0Tux', 'Rapid', 'ARGENTINE', 1863, 'daguilarCHT', 1665, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,c4,Bb4+,Bd2,Nxd2,Nbxd2,O-O,a3,Re8+,Be2,Bxd2+,Qxd2,dxc4,O-O,b5,a4,c6,b3,cxb3,axb5,Rxe2,Qxe2,Be6,bxc6,Nxc6,Rfd1,Bd5,Qe3,a5,Qc3,Nb4,Nd2,Rc8,Qg3,b2,Rab1,a4,Rxb2,Nc2,Qd3,Bb3,Nxb3,axb3,Rxb3,Nxd4,Rb4,Nc6,Qxd8+,Nxd8,Rbd4,Ne6,Rd7,g6,g3,Kg7,R1d6,Ng5,h3,Nxh3+,Kg2,Ng5,Ra6,Rc2,Raa7,h5,Rdc7,Re2,Kf1,Re6,f4,Rf6,Kg2,Ne6,Re7,Nd4,Ra4,Ne6,Ra6', 'Nxf4+,Kf3,Rxa6', 'https://lichess.org/training/q0Tux');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q0wmI', 'Rapid', 'Bashir33384', 1658, 'FrickleFuss', 1633, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Nxd2,Ne7,Ngf3,Nbc6,Bb5,Qb6,a4,a6,Bd3,Nxd4,Nxd4,Qxd4,Nf3,Qb4+,Nd2,Qxb2,O-O,Qxe5,Re1,Qd6,Ne4,Qd8,Nc5,O-O,Qc2,Nc6,Bxh7+,Kh8,Re3,f5,Rh3,Nd4,Qd1,Nc6,Bxf5+,Kg8,Bh7+,Kf7,Qh5+,Ke7,Qg5+,Kd6,Ne4+,dxe4', 'Rd1+,Kc7,Rxd8', 'https://lichess.org/training/q0wmI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q12PG', 'Blitz', 'IM Josetono', 2104, 'elpoll16', 2228, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,Nc3,Nc6,Bb5,Nf6,O-O,Be7,dxc5,h6,Ne5,Bd7,Nxd7,Qxd7,Re1,O-O,Be3,a6,Bxc6,bxc6,Bd4,Rab8,Na4,Rfe8,Nb6,Qf5,f3,Bf8,Qd3,Qg5,Qxa6', 'Rxe1+,Rxe1,Qd2', 'https://lichess.org/training/q12PG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q13Hr', 'Rapid', 'inanaydin', 1678, 'ChetanHadiya', 1706, 'e4,e5,Nf3,Nc6,Bc4,Bb4,c3,Bc5,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d6,Nb3,Nf6,Bd3,Bg4,O-O,Qd7,h3,Bxh3,gxh3,Qxh3,Nh2,O-O-O,Qf3,Qh4,Qg3,Qh5,Rfe1,d5,e5,Nd7,Rad1,f5,Bxf5,Qxf5,Nd2,Nxd4,b4,h5,Nb3,Nxb3,axb3,h4,Qe3,g5,Qxa7,g4,Re3,Nb6,Qa2,g3,fxg3,Qh5,Rd2,hxg3,Rxg3,Qxe5,Rdg2,Rxh2,Kxh2', 'Rh8+,Kg1,Qe1#', 'https://lichess.org/training/q13Hr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q15kY', 'Classical', 'DexterDesk', 1893, 'hovhanz', 1984, 'e4,c5,Nf3,d6,Nc3,Nc6,d4,e6,d5,exd5,exd5,Ne5,Bb5+,Bd7,Nxe5,dxe5,Bxd7+,Qxd7,Qe2,O-O-O,h3,Nf6,Bg5,h6,Bxf6,gxf6,Qf3,Be7,Rd1,f5,d6,Bxd6,g4,e4,Qxf5,h5', 'Rxd6,Qxf5,Rxd8+,Kxd8,gxf5', 'https://lichess.org/training/q15kY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q18jt', 'Blitz', 'aaaSashaMGGU', 1620, 'coookkkiii', 1675, 'd4,e5,dxe5,f6,exf6,Nxf6,Bg5,Bc5,e3,h6,Bh4,Nc6,Qf3,O-O,Bc4+,Kh7,Qf5+,g6,Qxc5,b6,Bxf6,Qxf6,Qa3,Qxf2+,Kd1,Ne5,Nf3,Nxc4,Qxf8', 'Nxe3+,Kc1,Qxc2#', 'https://lichess.org/training/Q18jt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q1bCo', 'Rapid', 'supersid25', 1630, 'shmoofles', 1653, 'e4,d5,exd5,Qxd5,c4,Qd8,Nf3,Nf6,d4,e6,Be2,Nc6,O-O,Be7,Nc3,O-O,Re1,b6,Bg5,Ng4,Bxe7,Nxe7,h3,Nf6,Ne5,Nd7,Bf3,Rb8,Nc6,Nxc6,Bxc6,Qg5,b4,Nf6,Re5,Qf4,Qd3,Bd7,b5,Bxc6,bxc6,Rbd8,Ne2', 'Qxe5,dxe5,Rxd3', 'https://lichess.org/training/q1bCo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q1CIZ', 'Rapid', 'zebj70', 1780, 'Pvsklaci', 1720, 'Nf3,Nf6,g3,d5,c4,Nc6,Bg2,d4,Na3,e5,d3,Bb4+,Bd2,a6,O-O,Bxd2,Qxd2,O-O,e3,Bg4,Nc2,Re8,exd4,Bxf3,Bxf3,Nxd4,Bg2,c6,Rfe1,e4,dxe4', 'Nf3+,Bxf3,Qxd2', 'https://lichess.org/training/q1CIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q1HjI', 'Rapid', 'Niky19877', 1662, 'gargiu1810', 1655, 'd4,d5,Nf3,c5,e3,Nc6,Bb5,Bd7,O-O,e6,c4,Nf6,Nc3,a6,cxd5,axb5,dxc6,Bxc6,dxc5,Bxc5,Qxd8+,Rxd8,Rd1,O-O,Bd2,Bxf3,gxf3,b4,Ne4,Be7,Nxf6+,Bxf6,Bxb4,Bxb2', 'Bxf8,Rxf8,Rab1', 'https://lichess.org/training/q1HjI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q1inw', 'Rapid', 'boazguedesag', 2162, 'Shimon64', 2221, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bd3,Bg4,c3,e6,Nbd2,Bd6,Qb3,Qc7,h3,Bh5,Qc2,Nf6,g4,Bg6,g5,Nd7,h4,Nb4,cxb4,Qxc2,Bxc2,Bxc2,a3,b5,O-O,Nb6,Ne1,Bg6,Nb3,Nc4,Nc5,O-O,b3,Nb6,f4,a5,bxa5,Nc8,b4,Bxc5,dxc5,Na7,Bb2,Nc6,Nf3,Bd3,Rf2,Rfd8,Nd4,Nxd4,Bxd4,Rdc8,Rc1,Bc4,Rcc2,Ra6,f5,Bd3,fxe6,Bxc2,exf7+,Kf8,Rxc2,Kxf7,Rf2+,Kg6,Kg2,Rc7,Kg3,Rf7,Rxf7,Kxf7,Kf4,Re6,Be5,g6,Bd6,d4,a6,Re8,a7', 'd3,Bb8,d2,a8=Q,d1=Q', 'https://lichess.org/training/q1inw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q1kZY', 'Rapid', 'Marcosales', 1960, 'FDog', 2125, 'e4,d6,d4,g6,f4,Bg7,Nf3,Nf6,Nc3,O-O,h3,a6,Bd3,b5,a3,Bb7,Qe2,e6,O-O,Nbd7,e5,Nd5,Nxd5,Bxd5,c4,bxc4,Bxc4,Bxc4,Qxc4,d5,Qc6,Nb6,b3,Qd7,Qxd7,Nxd7,Be3,Rfb8,Nd2,Bf8,Rfc1,Rb7,b4,Be7,Nb3,Rc8,Na5,Rb5,Rc6,Rb6,Rc3,Nb8,Rac1,c6,Kf2,Kf8,Bd2,Ke8,g3,Kd7,Ke3,Bd8,Nb3,Rb5,Rc5,Kc7,Rxb5,axb5,a4,bxa4,Nc5,Be7,Nxa4,Na6,Nc5,Nxc5,bxc5,Ra8,Rc3,Bd8,Kd3,Kc8,Bc1,Ra2,Rc2,Ra4,Rc3,h5,g4,hxg4,hxg4,Bh4,g5,Ra2,Rc2,Ra4,Rc3,Bf2,Be3,Bg3,Rc2,Be1,Rh2', 'Ra3+,Ke2,Ra2+,Kxe1,Rxh2', 'https://lichess.org/training/Q1kZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q1OUX', 'Rapid', 'amirmh88', 1698, 'michokal', 1664, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Be3,e6,Be2,Be7,O-O,O-O,Bh5,Nc6,Qf3,Ne5,Qh3,Ng6,f4,e5,f5,Nf4,Bxf4,exf4,Rxf4,Nxh5,Qxh5,Bf6,Nf3', 'Qb6+,Kh1,Qxb2', 'https://lichess.org/training/q1OUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q1pub', 'Blitz', 'Evgen24', 1883, 'armspark', 1766, 'Nf3,d5,d4,Nf6,c4,c6,Nbd2,e6,g3,Be7,Bg2,Nbd7,O-O,O-O,Re1,Ne4,Ne5,f6,Nxd7,Bxd7,Nxe4,dxe4,Bxe4,Qb6,c5,Qa5,Bd2,Qd8,Qb3,b6,cxb6,Qxb6,Qxb6,axb6,Rec1,Rac8,Rc2,c5,dxc5,Bxc5,Rac1,Be7,Rxc8,Rxc8,Rxc8+,Bxc8,Bc6,Kf7,Be3,Bd8,Kg2,Ke7,Kf3,Kd6,Be4,f5,Bd3,h6,h4', 'Bb7+,Kf4,g5+,hxg5,hxg5#', 'https://lichess.org/training/Q1pub');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q1QlM', 'Rapid', 'railroadman', 1724, 'DostojnyTeofil', 1720, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,Nbd7,Qe2,c5,d5,a6,e5,dxe5,Nxe5,Nxe5,Qxe5,b5,Be2,Nxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/Q1QlM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q1SCk', 'Classical', 'CABALLO2020', 1749, 'juanman1', 1872, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,c5,c3,Nc6,Bd3,Bg6,h3,Bd6,Ne5,c4,Bxg6,hxg6,Bh2,Bxe5,dxe5,Rh5,f4,Qh4+,Ke2,O-O-O,Nd2,f6', 'Nf3,fxe5,Nxh4', 'https://lichess.org/training/q1SCk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q1VjJ', 'Rapid', 'Leonik', 1845, 'Gregor12', 1789, 'e4,c5,Nf3,Nc6,Bc4,d6,a3,Nf6,Nc3,g6,h3,Bg7,d3,O-O,Bd2,a6,O-O,b5,Ba2,Rb8,Qc1,Nh5,Bh6,Nd4,Nxd4,Bxd4,Bxf8,Qxf8,Ne2,Bg7,c3,b4,axb4,cxb4,Bc4,bxc3,bxc3,Rb6,Qe3,Rc6,Nd4,Bxd4,Qxd4,Qh6,Qd5,Rxc4,Qxc4,Bxh3,gxh3,Nf4,Qc8+,Kg7,Qg4,Nxh3+,Kg2,Nf4+,Kg3,Nxd3,Rh1,Qd2,Qf3,Qg5+,Kh2,Ne5,Qg3,Qd2,Rhd1,Qc2,Rac1,Qxe4,Re1', 'Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/Q1VjJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q1YE9', 'Classical', 'yaroniko', 1654, 'Sarpedon', 1620, 'e4,e6,d4,c5,Nf3,Nc6,Bc4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bg5,O-O,O-O,Be7,Nxc6,bxc6,Qf3,d6,Rad1,Rb8,e5,Nd7,Bxe7,Qxe7,exd6,Qf6,Qxc6,Rxb2,Bb3,Ne5,Qc7,Bd7,Na4,Bxa4,Bxa4,Rxa2,Bb3,Ra6,d7,Rd8,Qc8,Rc6,Qb7,Rb6,Qxa7,Rbb8,f4,Ra8,fxe5', 'Qxf1+,Kxf1,Rxa7', 'https://lichess.org/training/Q1YE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q20Mh', 'Rapid', 'xyzee', 1855, 'TheSilentOne', 2045, 'c4,e5,e4,f5,d3,Nf6,Nf3,d6,Nc3,Nc6,Be3,f4,Bd2,Bg4,Be2,Qd7,O-O,h6,a3,Bxf3,Bxf3,Nd4,Nd5,c6,Nxf6+,gxf6,Bc3,Rg8,Bxd4,exd4,Qd2,O-O-O,Qxf4,d5,Qxf6,Kb8,Qxd4,Bg7,Qe3,Be5,d4,Bf6,Qf4+,Ka8,Qxf6,Rdf8,Qxh6,Rxf3,exd5,cxd5,cxd5,Qxd5,Rad1,a6,Qh7', 'Rxg2+,Kxg2,Rf7+', 'https://lichess.org/training/q20Mh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q2BZC', 'Rapid', 'proferach', 2083, 'freedom2121', 1926, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bf5,Nc3,e6,Bb5+,Nc6,Ne5,Rc8,O-O,a6,Be2,Bd6,Bf4,Qf6,Bf3,Nxe5,dxe5,Bxe5,Bxe5,Qxe5,Re1,Qd6,Nxd5,Bxc2,Qd2,Ne7', 'Nf6+,gxf6,Qxd6', 'https://lichess.org/training/Q2BZC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q2G6m', 'Blitz', 'ScrappyCokko', 2394, 'FM ilija83gr', 2403, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Bc5,e3,f5,h3,g5,hxg4,gxf4,exf4,d6,Nc3,Nc6,exd6,Bxd6,Nd5,fxg4,Qe2+,Kf7,O-O-O,Bf5,f3,h5,Qd2,Qg8,Bd3,Qg6,Bxf5,Qxf5,Ne2,gxf3,gxf3,h4,Nec3,Rad8,Ne4,Ne7,Qc2,Nxd5', 'Nxd6+,Rxd6,Qxf5+', 'https://lichess.org/training/q2G6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q2IBb', 'Rapid', 'vugachukwu', 1834, 'asssquare', 1829, 'e4,c5,Nf3,e6,Nc3,a6,a3,Nf6,d4,cxd4,e5,dxc3,exf6,Qxf6,bxc3,Qxc3+,Bd2,Qc5,Bd3,Qc7,Ng5,h6,Qh5,Qe5+,Be3,Qxa1+,Ke2,Qf6,Re1,g6,Qh3,Bg7,Ne4,Qe7,Bc5,Qd8', 'Nd6+,Kf8,Nxb7+', 'https://lichess.org/training/Q2IBb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q2JAi', 'Rapid', 'ars54321', 2172, 'TheCombinator', 2099, 'e4,d5,exd5,Nf6,d4,Bg4,Nf3,Qxd5,Be2,Nc6,c4,Qd7,Be3,e6,O-O,O-O-O,Nbd2,Bb4,Nb3,Be7,a3,Ne4,h3,Bh5,Qc2,f5,Rfd1,g5,d5,exd5,cxd5,Nb8,Ne5,Qe8,g4,Bd6,Nc4,Nd7,f3,Ng3,Nxd6+,Kb8,Nxe8,Rhxe8,Rd3,Bg6,Bf1,f4,Bf2,Ne5,Kg2,Nxf1,Rxf1,Bxd3,Qc5,Bxf1+,Kxf1,b6,Qc3,Rxd5,Nd4,c5,Nf5,Rd3,Qc2,Rxf3,Kg2,Rd3,b4,c4,Bd4,b5,Nd6,Nf3,Nxe8', 'Ne1+,Kf2,Nxc2', 'https://lichess.org/training/q2JAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q2meN', 'Rapid', 'Khaled6666', 1911, 'TheYoungGoat', 1924, 'e4,e5,Bc4,Nf6,Nc3,a6,a3,b5,Bb3,Nc6,d3,Nd4,Ba2,a5,Nf3,b4,axb4,axb4,Nd5,Nxf3+,Qxf3,Bb7,Nxf6+,gxf6,O-O,c6,Be3,d5,exd5,cxd5,Qh5,Qd7,d4,Qe6,dxe5,Qxe5,Qh3,Qxb2,Rfe1,Kd8,Reb1,Qxc2,Bb6+,Ke8,Re1+,Be7,Bb3,Rxa1,Rxa1,Qe4,Ra8+,Bxa8', 'Qc8+,Bd8,Qxd8#', 'https://lichess.org/training/q2meN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q2mWT', 'Rapid', 'alfdob', 2013, 'vlad119', 1740, 'e4,c5,Nc3,d6,g3,Nc6,Bg2,g6,d3,Bg7,Nge2,e6,Be3,Nge7,Qd2,O-O,Bh6,d5,Bxg7,Kxg7,h4,Re8,h5,Ng8,hxg6,fxg6,exd5,exd5,Nxd5,Nd4,Be4', 'Rxe4,dxe4,Nf3+,Kd1,Nxd2', 'https://lichess.org/training/q2mWT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q2Ojf', 'Blitz', 'Cybermaster', 1658, 'chessjump', 1683, 'e4,d5,exd5,Qxd5,c4,Qd6,Be2,Nf6,Nf3,Bg4,d3,g6,O-O,Bg7,Nc3,c6,Qb3,Qc7,g3,O-O,Bf4,Qa5,Bd2,Nbd7,Nd5,Qd8,Nf4,e5,Ng2,Nc5,Qb4,Nfd7,Be3,Na6,Qxb7,Nc7,Qxc6,f5,Qa4,f4,gxf4,exf4,Nxf4,Bxf3,Bxf3,Qg5+,Kh1,Rxf4,Bxf4,Qxf4,Bxa8,Be5,Kg2,Qxh2+,Kf3,Qh3+,Ke2,Nc5,Bd5+,Nxd5,Qe8+,Kg7,Rad1,Qg4+,Ke1,Bxb2,cxd5', 'Bc3+,Rd2,Nxd3#', 'https://lichess.org/training/Q2Ojf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q2P67', 'Rapid', 'FantasticMrFoxy', 1739, 'Creeper201', 1646, 'd4,d5,Bf4,Nc6,e3,Nf6,Bd3,Bg4,f3,Bh5,Nd2,e6,Ne2,Bd6,Bg3,O-O,c3,a6,Qc2,Bg6,e4,Bxg3+,hxg3,dxe4,Nxe4,Nxe4,fxe4,Qg5,Rh3,f5,exf5,Bxf5,Bxf5,Rxf5,Nf4,Re8,O-O-O,h6,Rdh1,e5,dxe5,Rexe5,Qb3+,Kh7,Qxb7,Rc5,Kb1,Qe7,Qxa6,Qe4+,Ka1,Rfe5,a3,Ra5,Qc8,Re8,Qxc7,Rea8,Nh5,Rxa3+,bxa3,Rxa3+,Kb2,Ra2+,Kxa2,Qc2+,Ka3', 'Qxc3+,Ka2,Nb4+,Kb1,Qxc7', 'https://lichess.org/training/Q2P67');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q2pao', 'Blitz', 'Mr_Ikemen', 2138, 'Southafricanpiglet', 2141, 'e4,Nc6,d4,e5,Nf3,exd4,Nxd4,Qf6,Be3,Bc5,c3,Bxd4,cxd4,Nge7,Nc3,d6,Bc4,Bd7,O-O,Na5,Bd3,b6,f4,c5,e5,dxe5,fxe5,Qh4,Be4,Nc4,Bf2,Qh6,Bxa8,O-O,dxc5,Be6,Bf3,bxc5,Bxc5,Ne3,Qe2,Nxf1,Bxe7,Re8,Bc5,Nxh2,Ne4,Qf4,Nd6,Nxf3+,Qxf3,Qc4,Nxe8,Qxc5+,Kh1,Qxe5,Rd1,Kf8,Rd8', 'Qe1+,Kh2,Qh4+,Kg1,Qxd8', 'https://lichess.org/training/Q2pao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q2paY', 'Rapid', 'Amir_nejati75', 1826, 'qwetqa', 1815, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Bg4,O-O,e6,Be2,Nc6,Bg5,Be7,Qd3,O-O,b3,Qb6,Ne5,Bxe2,Qxe2,Qxd4,Nxc6,bxc6,c3,Qb6,Nd2,a5,Nf3,c5,Ne5,Ra7,f4,Ne4,c4,Nxg5,fxg5,Bxg5,Qg4,f6,Nf3,Be3+,Kh1,Re7,Rfe1,Bd4,Nxd4,cxd4,cxd5,e5,Rac1,Qb5,d6,Ree8,Rc7,g6,d7,Re7', 'd8=Q,Rxd8,Rxe7', 'https://lichess.org/training/q2paY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q2VnS', 'Rapid', 'ksu_2008_pa', 1788, 'cswhitmo01', 1750, 'd4,Nf6,c4,c5,d5,b5,e3,bxc4,Bxc4,g6,Bd2,Bg7,Bc3,d6,f3,Nbd7,Qd2,O-O,e4,Ne5,Bxe5,dxe5,Ne2,a5,a4,Ba6,Bxa6,Rxa6,Na3,Nh5,Nb5,Nf4,O-O,e6,d6,Qg5,Nxf4,exf4,Rac1,Rd8,b3,h5,Kh1,Rd7,Rfd1,Qe5,Qf2,Rc6,Qe1,Ra6,Rc4,Bf8,Rdc1,Bxd6,Nxd6,Raxd6,h4,Qf6', 'e5,Qe7,exd6', 'https://lichess.org/training/q2VnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q2Wxz', 'Rapid', 'EgasovVladimir', 1730, 'covton', 1719, 'e4,c5,Bc4,Nc6,Nc3,e6,Nf3,Nf6,h3,d5,exd5,exd5,Bb5,Be6,d3,Bd6,Bg5,O-O,Qd2,h6,h4,Re8,O-O-O,Qc7,Kb1,hxg5,hxg5,Bf4,Qe2,Bg4,Qf1,Bxf3,gxf6,Bxd1,Qxd1,g6,Nxd5,Qd6,Bxc6,bxc6,Ne7+,Rxe7,fxe7,Qxe7,Qg4,Qg5,Qd7,Qd5,Qh3,Qe5,g3,Bd2', 'Qh7+,Kf8,Qh8+,Qxh8,Rxh8+,Ke7,Rxa8', 'https://lichess.org/training/q2Wxz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q2Ylc', 'Blitz', 'gilel', 1544, 'Zelkenwasla', 1604, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,d6,d4,cxd4,cxd4,Bd7,e5,Nxe5,Bxd7+,Nxd7,Nc3,Ngf6,Bg5,O-O,Re1,Rc8,Rc1,h6,Bxf6,Nxf6,Qb3,Qb6,Qxb6,axb6,Rxe7,Nd5,Rxb7,Rc4,Rd1,Nxc3,bxc3,Rxc3,Rxb6,Rc2,Rxd6,Rxa2,d5,Rc8,Rd7,Rcc2,Rf1,Bc3,Rd8+,Kg7,d6,Ba5,Ra8,Rxf2,Rxf2', 'Ra1+,Ne1,Rxe1+,Rf1,Bb6+,Kh1,Rxf1#', 'https://lichess.org/training/Q2Ylc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q2yRO', 'Rapid', 'cuccurucucuu', 1618, 'Der_Wellenkamper', 1617, 'e4,e6,f4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bg4,O-O,Bc5+,Kh1,O-O,Nc3,c6,a3,Nbd7,b4,Bd4,Rb1,Bxc3,dxc3,Qc7,Be3,Rfe8,Qd2,Bxf3,Rxf3,Re7,Rg3,b6,f5,Ne5,Bh6,Nxd3,Rxg7+,Kh8,Qg5,Nf2+,Kg1,N2e4', 'Rxh7+,Nxh7,Qg7#', 'https://lichess.org/training/q2yRO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q305M', 'Blitz', 'bertyRKCCNTT', 1996, 'NotTodayChamp', 1837, 'd4,d5,Nf3,Bf5,Nbd2,e6,c3,Na6,Qb3,Nb8,Qxb7,Nd7,e4,dxe4,Ne5,Nxe5,dxe5,Bc5,Bb5+,Kf8,O-O,Ne7,Nxe4,Rb8,Nxc5,Rxb7,Nxb7,Qb8,Ba6,Nc6,Be3,Ke7,Bc5+,Ke8,f3,Nxe5,Rad1,Bd3,Rxd3,Nxd3', 'Bb5+,c6,Bxc6#', 'https://lichess.org/training/Q305M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q31Ct', 'Blitz', 'sergey228papiroska', 1810, 'trihin1958', 1893, 'e4,d5,exd5,e6,dxe6,Bxe6,Nc3,Bd6,Nf3,Nf6,d4,O-O,Bg5,Re8,Be2,Bg4,O-O,Nbd7,h3,Bh5,Re1,c6,Nh2,Bg6,Ng4,Qc7,Nxf6+,Nxf6,Bxf6,gxf6,Bd3,f5,Qf3,Qd7,Re2,Rxe2,Nxe2,Re8,Kf1,c5,c3,b5,Nf4,c4,Bc2,Kg7,Nh5+,Bxh5,Qxh5,Qe6,Qxf5', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/q31Ct');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q31IA', 'Rapid', 'vhullas', 1858, 'sautu', 1854, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,O-O,d6,Re1,Bg4,Be2,Qd7,h3,Bh5,Nh2,Bxe2,Qxe2,Nd4,Qd1,h5,Nd5,Nxd5,exd5,O-O-O,c4,f5,b4,g5,d3,f4,Nf3,g4,Nxd4,exd4,Bxf4,gxh3,g3,Rdf8,c5,Rxf4,gxf4,Rg8+,Kf1', 'h2,Qxh5,Rg1+', 'https://lichess.org/training/Q31IA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q3267', 'Classical', 'foytik', 2272, 'ThrawnSama', 2333, 'e4,c5,Nc3,d6,d4,cxd4,Qxd4,Nf6,Bd2,Nc6,Qe3,e5,O-O-O,Be7,h3,Be6,g4,d5,exd5,Nxd5,Qe4,Nxc3,Bxc3,Bg5+,Bd2,Bd5,Qf5,Bxh1,Bxg5,Qc8,Qd3,O-O,f3,Qe6,Qe4,Qxa2,Bd3,g6,Ne2,Bg2,Nc3,Qa1+,Nb1,Rac8,Rg1,Nd4,c3,Rxc3+,bxc3,Bxf3,Qxe5', 'Nb3+,Kc2,Qa2#', 'https://lichess.org/training/Q3267');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q32OJ', 'Classical', 'DeepBlueDaniel', 1629, 'lychesz', 1670, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Bc5,Nf5,Ne5,Qd5,d6,Nxg7+,Kf8,Bf4,Qf6,Bxe5,Qxf2+,Kd1,Bg4+,Kc1,Be3+,Nd2,Bxd2+,Qxd2,Qxd2+,Kxd2,dxe5,Nf5,Rd8+,Ke3,Bxf5,exf5,Nf6,Rad1,Rxd1,Rxd1,Kg7,h3,Rg8,g4,c6,a4,a6,b4,b5,axb5,axb5,Bb3,Rc8,Rd6,c5,bxc5,Rxc5,Rb6,Rc3+,Kd2,Rxh3,Rxb5,e4,Rb7,e3+,Ke2,Nxg4,Rxf7+,Kh8,Rf8+,Kg7,Rg8+,Kf6,Rxg4,Kxf5,Rg2,h5,Ba4,Kf4,Rg1,Rh2+,Ke1,h4,c4,h3,c5,Rg2,Rh1,Kg3,Bd1', 'h2,Rxh2,Rxh2', 'https://lichess.org/training/Q32OJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q34V2', 'Blitz', 'Saeed_tz', 2116, 'amenon', 2097, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,Bg4,Bb5,Nf6,Bxc6+,bxc6,d3,e6,O-O,Be7,Qe1,O-O,Nd2,d5,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Nf3,f5,Ng5,Qd7,exd5,Bxg5,fxg5,cxd5,Qe5,Qf7,Kg2,Rad8,Bf4,d4,Na4,Rd5,Qc7,Qh5,Rh1', 'Bf3+,Kf2,Bxh1,Rxh1,Qxh1', 'https://lichess.org/training/q34V2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q38pv', 'Classical', 'BlackStorm758', 1752, 'leudeaur', 1821, 'e4,b6,Nc3,Bb7,Bc4,Nc6,Nf3,e6,d3,Qe7,Bg5,f6,Bh4,g5,Bg3,O-O-O,Qe2,e5,h4,g4,Nd2,Nd4,Qd1,h5,Nb5,Nxb5,Bxb5,c6,Bc4,b5,Bb3,Qd6,f3,gxf3,Qxf3,Ne7,Bf2,Ng6,Bxa7,Nf4,g3,Ne6,Bxe6,Qxe6,Nb3,d5,Nc5,Bxc5,Bxc5,dxe4,Qxe4,f5,Qe2', 'Qd5,Rf1,Qxc5', 'https://lichess.org/training/q38pv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q3act', 'Blitz', 'Klim76', 1835, 'TKHF', 1828, 'd4,d5,c4,c6,e3,Nf6,Nf3,g6,b3,Bg7,Bb2,O-O,Nc3,Bg4,h3,Bxf3,Qxf3,Nbd7,c5,Re8,Bd3,e5,Qe2,exd4,Na4,dxe3,O-O,exf2+,Qxf2,Ne4', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/Q3act');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q3BqU', 'Rapid', 'GregPac', 1615, 'iamnotsam', 1612, 'd4,e6,e4,d5,Nc3,Nf6,e5,Nfd7,Be3,c5,Nf3,Nc6,Be2,Qb6,Rb1,f6,O-O,fxe5,dxe5,Be7,a3,Qd8,Bb5,d4,Bxc6,bxc6,Nxd4,cxd4,Bxd4,O-O,Qg4,Nb6,Be3,Qc7,Qe4,Bb7,f4,Rad8,Qf3,c5,Qg4,Nc4', 'Qxe6+,Kh8,Qxc4', 'https://lichess.org/training/q3BqU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q3BRA', 'Classical', 'devist', 1629, 'Praethius', 1670, 'Nf3,f5,d4,Nf6,c4,c5,Nc3,Nc6,d5,Nd4,Nxd4,cxd4,Qxd4,b6,f3,Bb7,e4,e5,Qxe5+,Qe7,Qxf5,Qb4,a3,Qc5,e5,Ng8,Nb5,a6,Nd6+,Bxd6,exd6,Qxd6,Be3,Ne7,Qd3,O-O,Be2,Rae8,O-O,Nf5,Bd4', 'Nxd4,Qxd4,Rxe2', 'https://lichess.org/training/Q3BRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q3c0e', 'Blitz', 'Hypnotized29', 2665, 'FM skwabagz', 2604, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bc4,Nc6,Nf3,Bg4,O-O,O-O-O,Be3,Qh5,Be2,e5,h3,exd4,Nxd4,Bxe2,Ncxe2,Bc5,c3,Nd5,Ng3,Qxd1,Raxd1,Nxe3,fxe3,Ne5,Ne4,Bb6,b4,Rhe8,Nc5,Bxc5,bxc5,f6,Nf5,Rxd1,Rxd1,g6,Nd4,Nc4,Rb1,Rxe3,c6,bxc6,Nxc6,Rxc3,Nxa7+,Kd7,Rd1+,Ke6,Nb5,Rc2', 'Nd4+,Ke5,Nxc2', 'https://lichess.org/training/Q3c0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q3HSK', 'Rapid', 'Carlos0575', 1700, 'vilelapolonio', 1678, 'e4,e5,f4,exf4,Nf3,Bc5,Bc4,Nf6,h3,O-O,d4,Bb6,Bxf4,Nxe4,O-O,d5,Bd3,Bf5,c3,Qd7,Ne5,Qe6,g4,Bg6,Qf3,c5,Nxg6,fxg6,Re1,cxd4,Kg2,dxc3,Nxc3,Qf7,Rf1,Nd2', 'Bxd2,Qxf3+,Rxf3,Rxf3,Kxf3', 'https://lichess.org/training/q3HSK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q3hwv', 'Blitz', 'tp0375', 1967, 'High_Light', 1991, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bg5,c5,Rc1,O-O,d5,Qa5,Qd2,Rd8,Bxe7,Re8,d6,Bd7,Bc4,Nc6,Nf3,Nxe7,dxe7,Rxe7,O-O,Rd8,Qe3,Bc6,e5,Rde8,Rfe1,Bxf3,Qxf3,Bxe5,Rxe5,Rxe5', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/q3hwv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q3jlK', 'Rapid', 'Chaton_31', 1667, 'carlosalbertocandia', 1667, 'e4,c5,Bc4,e5,Nf3,d6,d3,Be7,h4,Nf6,Bg5,O-O,Nc3,Nbd7,Nd5,Nxd5,Bxd5,Nb6,c4,Bg4,Qd2,Bxf3,gxf3,Nxd5,cxd5,f6,Be3,b5,Rg1,Kh8,O-O-O,b4,b3,Rb8,f4,a5,fxe5,dxe5,f4,Bd6,f5,Rf7,h5,h6,Qg2,Qd7,Qg6,a4,Bxh6,gxh6,Qxh6+,Rh7,Qxf6+,Rg7,Rxg7,Qxg7,Qxd6,Ra8,Qc6,Ra7,Qxc5', 'Rc7,Qxc7,Qxc7+', 'https://lichess.org/training/Q3jlK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q3nav', 'Rapid', 'Demarshal', 1674, 'why_is_chess_so_hard', 1864, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bd3,O-O,a3,Bc5,Nb3,Bxf2+,Kxf2,Qb6+,Be3,Qc7,Bg5,Qe5,Rf1,Qxg5,Kg1,Re8,Qe2,d5,e5,Nfd7,Rae1,Nc6,Rf3,Ndxe5,Rg3,Qf6,Rf1,Qd8,Bxh7+,Kxh7,Rh3+,Kg8,Qh5,Ng6', 'Qh7+,Kf8,Qxg6', 'https://lichess.org/training/Q3nav');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q3Ok6', 'Rapid', 'chessmenfranco', 1618, 'antonzyryanov', 1780, 'c4,Nf6,g3,h6,Bg2,e6,a3,Be7,Nc3,O-O,Qb3,c6,Nf3,d5,O-O,dxc4,Qxc4,b5,Qb3,Bb7,Ne5,Nbd7,Nxc6,Bxc6,Bxc6,Rb8,Qc2,a6,d3,Ne5,Bg2,a5,Bf4,Bd6,Ne4,Nxe4,Bxe4,Rc8,Qb3,Qd7,Rac1,a4,Qd1,Rxc1,Bxc1,Rc8,Qd2,Ng4,Qa5,Be5,h3,Nf6,Bg2,Bd4,Qd2,e5,e3,Bb6,Qe2,Qe6,Bd2,Rc2,Rb1,Qa2,Qd1,Rxb2,Rc1,Rxd2,Qf3,Qxa3', 'Rc8+,Qf8,Rxf8+', 'https://lichess.org/training/q3Ok6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q3Qe7', 'Rapid', 'elgred', 1933, 'abdallah133', 2051, 'd4,Nf6,e3,g6,f4,Bg7,Nf3,O-O,Bd3,b6,O-O,Bb7,c3,Re8,f5,e6,fxg6,hxg6,Nbd2,d6,e4,e5,d5,c6,dxc6,Nxc6,Ng5,d5,exd5,Ne7,c4,Rc8,b3,Ba6,Nde4,Nexd5,cxd5,Qxd5,Nxf6+,Bxf6,Rxf6,Bxd3,Rxf7', 'Qd4+,Kh1,Qxa1', 'https://lichess.org/training/Q3Qe7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q3rNW', 'Classical', 'Min-yoongi', 1712, 'fahreinheit451', 1676, 'd4,d5,Bf4,e6,Nf3,h6,h3,Bd6,Bxd6,Qxd6,e3,Nf6,c4,c6,Nc3,Qb4,Qc2,Ne4,cxd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Nxc3,bxc3,Qc4,Rab1,b5,Rb4,Qc6,Rfb1,a6,a4,O-O,axb5,Qb6,bxa6,Qxa6,c4,Rfc8,c5,f6,Rb7,Ra7,Rxa7,Qxa7,e4,e5,dxe5,Rxc5,Qd3,dxe4,Qxe4,Nxe5,Nxe5,Rxe5,Qc4+,Kh7,Qd3+,f5,g4,g6,gxf5,Rxf5,Qe2,Rg5+,Kf1,h5,h4,Rg4,Qf3', 'Qa6+,Qe2,Rg1+,Kxg1,Qxe2', 'https://lichess.org/training/q3rNW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q3S6l', 'Classical', 'KKBanov', 2127, 'Yantar', 2164, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,c3,d6,a4,a6,Nbd2,O-O,O-O,h6,Re1,Ne7,d4,exd4,cxd4,Bb4,Qb3,a5,e5,Nh5,Rd1,d5,Bd3,Nf4,Bc2,c5,dxc5,Qc7,Nf1,Ne2+,Kh1,Nxc1,Raxc1,Bxc5,Ne3,Be6,Bb1,b6,Qd3,g6,h4,h5,Rg1,Kg7,g4,hxg4,Nxg4,Bxg4,Rxg4,Qd7,Rcg1,Bxf2,R1g2,Bc5,e6,Qxe6,Nd4,Bxd4,Qxd4+,Qf6,Qd2,Nf5,Qf4,Nd6,Qg3,Ne4,Bxe4,dxe4,Rf4,Qd4,h5,Qd1+,Rg1,Qxh5+,Rh4,Qd5,Qc3+,f6,Qc7+,Qf7,Rxg6+,Kxg6,Rg4+,Kh7', 'Qh2+,Qh5,Qxh5#', 'https://lichess.org/training/q3S6l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q3TBw', 'Rapid', 'Seniorenmeister', 1901, 'evona', 1913, 'e4,c5,Nc3,e5,f4,exf4,d3,Qh4+,Kd2,d6,Nf3,Qh6,Nd5,Na6,d4,Nf6,Bxa6,Nxe4+,Ke2,bxa6,Nc7+,Kd7,Nxa8,Qe6,Kf1,Bb7,dxc5,Nxc5,Bxf4', 'Qc4+,Kf2,Qxf4', 'https://lichess.org/training/q3TBw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q3vq5', 'Rapid', 'Artemkov', 1857, 'Yamaarashi', 2104, 'd4,d5,Nf3,Nd7,Bf4,e6,c3,Bd6,Bxd6,cxd6,Nbd2,f5,e3,Ngf6,Be2,O-O,h3,e5,dxe5,dxe5,Qb3,Qe7,O-O-O,Nb6,Kb1,Nfd7,c4,Nc5,Qb4,f4,cxd5,Kh8,e4,Qd6,Nc4,Nxc4,Qxc4,b5,Qxb5,Bd7,Qa5,Nxe4,Rhf1,Rab8,Nd2,Nc5,Nc4,Qg6+,Ka1,Na4,b3,Qc2,Bd3,Qc3+,Qxc3,Nxc3,Rc1,Nxd5,Nxe5,Bf5,Bc4,Be6,Rfe1,Bg8,Nd3,f3,g3,Rfe8,Ne5,Rbd8,Nxf3,Rxe1,Rxe1,Nb4,Kb2', 'Bxc4,bxc4,Nd3+,Kc2,Nxe1+', 'https://lichess.org/training/q3vq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q3Wj1', 'Blitz', 'BlueOi', 2228, 'CM HCMB', 2321, 'a3,d5,b4,Nf6,Bb2,Bf5,e3,e6,c4,c6,Nf3,a5,b5,dxc4,bxc6,Nxc6,Bxc4,Bd3,Qb3,Bxc4,Qxc4,Rc8,Qb5,Be7,Qxb7,O-O,O-O,Rb8,Qxc6,Rxb2,Nc3,Qd3,Na4,Rc2,Qb6,Bxa3,Qxa5,Be7,Rac1,Ra2,Nc5', 'Qxf1+,Kxf1,Rxa5', 'https://lichess.org/training/q3Wj1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q3xx0', 'Rapid', 'fredy07', 1645, 'Sky_Petr', 1610, 'e4,e5,Nf3,d6,d4,Be7,dxe5,dxe5,Qxd8+,Bxd8,Nxe5,Nf6,Nc3,O-O,Bd3,Nc6,Nxc6,bxc6,O-O,Be7,Bf4,Bd6,e5,Nh5,exd6,Nxf4,dxc7,Nxd3,cxd3,Ba6,Rfd1,Rac8,d4,Rxc7,d5,cxd5,Rxd5,Bc4,Rd4,a6,Nd1,Rfc8,Rc1,h6,b3', 'Be2,Rxc7,Rxc7', 'https://lichess.org/training/q3xx0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q3YcV', 'Classical', 'ajiz9534', 1953, 'LeviSK', 2075, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,h6,Bh4,Be7,Qf3,Bd7,O-O-O,Nc6,Nb3,Rc8,g4,Nb4,Rg1,Qb6,Bf2,Qc6,a3,Nxe4,Nd4,Nxc3,Nxc6,Bxc6,Qg3', 'Nba2+,Kd2,Ne4+,Ke1,Nxg3', 'https://lichess.org/training/Q3YcV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q41mW', 'Classical', 'Lelanhenry', 1790, 'a_1_t', 1759, 'e4,c5,Nc3,Nc6,Bc4,e6,Nf3,Nf6,O-O,d5,exd5,exd5,Re1+,Be7,Bb5,O-O,Bxc6,bxc6,d4,cxd4,Qxd4,Qc7,Bg5,c5,Qh4,Be6,Re5,h6,Bxh6,Ng4,Nxd5,Nxe5', 'Nxe7+,Qxe7,Qxe7', 'https://lichess.org/training/Q41mW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q46ky', 'Rapid', 'Horse4203', 2040, 'Gogenz', 1744, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,Nf6,d5,Ne5,Nc3,d6,f4,Ned7,Nf3,g6,Be2,Bg7,e5,dxe5,fxe5,Ng4,e6,fxe6,dxe6,Bxc3+,bxc3,Nc5,Nd4,Nf6,Bb5+,Kf8,Bc4,Qd6,Qe2,Kg7,O-O,Nce4,Qe3,b6,Qh6+,Kg8,Rf3,Bb7,Rd3,Qc5,Bb3,Nxc3,Bb2,Ne2+,Kh1,Nxd4,Bxd4,Qc6,Rg3,Rb8,Rxg6+,hxg6', 'Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/Q46ky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q49KJ', 'Classical', 'derek_bum', 1781, 'grij1300', 1844, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,cxd5,cxd5,Bg5,Nbd7,e3,Bd6,Bd3,O-O,O-O,h6,Bh4,a6,e4,dxe4,Nxe4,Be7,Nxf6+,Nxf6,Re1,Qb6,b3,Bd7,Bc4,Bc6,Ne5,Rad8,Nxc6,Qxc6,Rc1,Qb6,Rc2', 'Rxd4,Qc1,Rxh4', 'https://lichess.org/training/q49KJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q4cH0', 'Rapid', 'filoe', 1632, 'ashwinishukla', 1626, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Qxe7+,Bxe7,Be2,O-O,O-O,d5,d4,Re8,Bb5,Bg4,Ne5,Nb4,Bxe8,Nxc2,Nxg4,Nxg4,h3,Nf6,Ba4,Nxa1,b3,Nc2,Be3,Nxe3,fxe3,Ne4,b4,a6,a3,c6,Bc2,a5,bxa5,Rxa5,Rf4,Ng3,Kh2,Nh5,Rf3,Bxa3,Nxa3,Rxa3,Bf5,g6,Bc8,b5,Bd7,Ra6,Bc8,Rb6,Bg4,Ng7,Rf1,b4,Rb1,b3,Bd1,b2,g4,f5,Kg3,Ne6,gxf5,gxf5,Bc2,Ng7,Kf4,Kf7,h4,Ke6,Kg5,Ne8,Bxf5+,Kf7,Bxh7,Rb3,Bg6+,Ke7,h5,Nf6,h6,Ne4+', 'Bxe4,dxe4,h7', 'https://lichess.org/training/q4cH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q4d21', 'Blitz', 'bitekibo', 1575, 'orphan', 1587, 'e4,e6,d3,d5,f3,dxe4,fxe4,Nf6,g3,b6,Bg2,Bb7,Ne2,Nbd7,O-O,c5,h3,Be7,Nbc3,O-O,Nf4,h6,Qf3,Ne5,Qf2,Nc6,Kh2,Nb4,a3,Nc6,Nfe2,Nd4,Nd1,Nxc2,Rb1,Qxd3,Nf4,Qc4,b3,Qd4,Qxc2,Bxe4,Bxe4,Qxe4,Qxe4,Nxe4,Re1,Nf6,Bb2,Rad8,Bxf6,Bxf6,Re2,Rd4,Nf2,Rfd8,h4,Rd2,Rxd2,Rxd2,Rf1,Bd4,Kg2,Be3,Kf3,Bxf4,Kxf4,Ra2,a4,Rb2,Ke5,Rxb3,Ne4,Ra3,Rd1,Rxa4,Rd8+,Kh7,Rd7,c4,Rxf7,b5,Rc7,Ra5', 'Nf6+,Kg6,h5+,Kg5,Rxg7#', 'https://lichess.org/training/q4d21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q4e3d', 'Rapid', 'BoniekNur', 1725, 'leudeaur', 1729, 'e4,b6,d4,Bb7,Bd3,e6,Nf3,Nc6,Be3,Nf6,O-O,Qe7,c3,O-O-O,a4,a5,b4,axb4,cxb4,Nxb4,Na3,Ng4,Bf4,f6,h3,g5,Bg3,h5,hxg4,hxg4,Nh2,Qh7,Rc1,e5,Nb5,d6,dxe5,fxe5,Qxg4+,Kb8,Qxg5,Be7,Qe3,Nxd3,Qxd3,c5,f3,Rdg8,Ng4,Rxg4,fxg4,Bxe4,Qd2', 'Qh1+,Kf2,Qxg2+,Ke1,Qxg3+', 'https://lichess.org/training/Q4e3d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q4gVJ', 'Rapid', 'ardefred', 1885, 'anotheromer', 1790, 'e4,d5,exd5,Nf6,d4,Nxd5,c3,Nc6,Nf3,Bg4,Be2,e6,O-O,Qf6,Bg5,Qg6,h3', 'Bxf3,Bxf3,Qxg5', 'https://lichess.org/training/Q4gVJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q4JJm', 'Blitz', 'BenRich66', 2111, 'najafihamed', 2118, 'e4,c5,b4,cxb4,a3,bxa3,Bxa3,Nc6,d4,d6,Nf3,g6,c3,Bg7,Bc4,Nh6,Nbd2,O-O,O-O,a6,Bb2,b5,Bxb5,Bb7,Bd3,Rc8,Bxa6,Bxa6,Rxa6,Rb8,Ba1,Qc7,Qa4,Nd8,Ra7,Rb7,Rxb7,Qxb7,Rb1,Qc7,Qc4,Qa5,Qb4,Qa2,Qb3,Qa6,h3,Ne6,Nc4,Nf4,e5,dxe5,Ncxe5,Qe2,Re1,Qa6,c4,Nf5,d5,Qa7,Bc3,Rb8,Qc2,Qa3,Bd4,Nxd4,Nxd4,Rb2,Qe4,Bxe5,Qxe5,Nd3,Qxe7,Nxe1,Qxe1,Qa2,Qe8+,Kg7,Qe5+,f6,Qe7+,Kh6,Ne6,Rxf2', 'Qg7+,Kh5,Qxh7#', 'https://lichess.org/training/Q4JJm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q4Mcn', 'Rapid', 'Abdollahkheir', 1763, 'Yntec', 1707, 'e4,Nc6,Bb5,e5,Nf3,a6,Bxc6,dxc6,O-O,Bd6,c3,f5,d4,fxe4,Nxe5,Bxe5,Qh5+,Kf8,Qxe5,Nf6,Bg5,h6,Bh4,g5,Bg3,Rh7,Nd2,Rf7,Nxe4,Nxe4,Qxe4,Bf5,Qe5,Kg8,Rfe1,h5,Qc5,Qf6,Re3,Raf8,Rae1,Bg6,Re8,h4,Rxf8+,Rxf8,Qc4+,Bf7,Qe2,hxg3,hxg3,Bxa2,b4,Bd5,f3,Qd6,g4,Rf7,Qe3,Qf6,Qe8+,Kg7,Kf2,Qd6,Rh1,Rf8,Qe3,Qg6,Qe5+,Rf6,Qe7+,Qf7,Qe5,Kg6,Qe3,Qd7', 'Qd3+,Kf7,Rh7+,Ke8,Rxd7', 'https://lichess.org/training/q4Mcn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q4nTe', 'Blitz', 'puyol4', 2005, 'Fra68', 2144, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,g6,Bc4,c6,Bb3,Bg7,O-O,O-O,c4,Nb6,Re1,Bg4,h3,Bxf3,Qxf3,dxe5,dxe5,N8d7,Bf4,Nc5,Nc3,Nxb3,axb3,Nd7,e6,fxe6,Qg3,e5,Bg5,Rf5,Rad1,Qe8,Ne4,h6,Bxh6,Bxh6,Rxd7,Qxd7,Qxg6+,Bg7,g4,Rf7,Ng5,Qe8', 'Qh7+,Kf8,Ne6#', 'https://lichess.org/training/Q4nTe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q4OxP', 'Rapid', 'tieuho', 1673, 'cheua', 1661, 'd4,Nf6,Nc3,g6,e4,d6,d5,Bg7,Bd2,e5,Bg5,O-O,Nf3,h6,Bxf6,Qxf6,Be2,Nd7,b4,a5,a3,b6,O-O,Ba6,Bxa6,Rxa6,Nb5,Qd8,Qe2,Ra8,c4,f5,exf5,Rxf5,Nc3,e4,Nxe4,Bxa1,Rxa1,Qf8,Re1,Re8,Nh4,Rfe5,Nxg6', 'Rxe4,Qxe4,Rxe4', 'https://lichess.org/training/q4OxP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q4RGa', 'Rapid', 'XKeen', 1707, 'torchello', 1694, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bc5,Bxc6,bxc6,h3,d5,exd5,cxd5,d3,O-O,Bg5,Qd6,O-O,h6,Bh4,Bb7,Nb5,Qb6,Bxf6,Qxb5,Bxe5,d4,b3,Rfe8,Bxd4', 'Bxf3,Qxf3,Bxd4', 'https://lichess.org/training/Q4RGa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q4ROb', 'Rapid', 'Fixlipp', 1935, 'WillTakeTourRating', 2034, 'e4,c5,Nc3,Nc6,f4,e6,Bc4,Nf6,d3,d5,exd5,exd5,Bb3,Bg4,Nf3,Be7,h3,Bxf3,Qxf3,O-O,O-O,d4,Ne4,a5,a3,Qd7,g4,a4,Ba2,Rae8,g5,Nxe4,dxe4,Kh8,f5,Ne5,Qg3,Bd6,Qh4,Qe7,f6,gxf6,gxf6,Rg8+,Kh1,Qd7,Rf5,Ng6', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/Q4ROb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q4tF3', 'Rapid', 'Hinder31', 1694, 'olafes', 1683, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,Ng4,h3,Nxe3,Qxe3,Nc6,Bb5,Qb6,Nxc6,bxc6', 'Qxb6,axb6,Bxc6+,Bd7,Bxa8', 'https://lichess.org/training/q4tF3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q4Txb', 'Blitz', 'Semen2309', 2103, 'epaleepale', 2123, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Bc4,Nc6,Nf3,a6,O-O,b5,Bb3,Nf6,e5,Ng4,Bf4,Qc7,Re1,Bc5,Ne4,Bb4,Nd6+,Bxd6,exd6,Qa7,Qd2,O-O,Bc2,f5,h3,Nf6,g4,fxg4,hxg4,Nxg4,Ng5,h6,Qd3,Qxf2+,Kh1,Nf6,Nh7,Qh4+,Bh2,Ng4,Re2,Nf2+,Rxf2,Rxf2,Nf6+,Qxf6,Qh7+,Kf7,Rg1,Bb7', 'Bg6+,Qxg6,Qxg6+,Kf8,Qxg7+', 'https://lichess.org/training/q4Txb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q4u77', 'Blitz', 'tiniel', 1556, 'navidaren', 1528, 'e4,e5,Nf3,d6,c3,a6,d4,Nc6,d5,Nce7,Bg5,h6,Bh4,Bg4,Be2,Nf6,h3,Bd7,Nbd2,c6,c4,Qc8,O-O,Bxh3,gxh3,Qxh3,Bg3,h5,Ng5,Qd7,Qb3,c5,Kg2,Ng4,Qf3,Nf6,Rh1,Ng6,Rh2,O-O-O,Rah1,Kb8,Rxh5,Nxh5,Rxh5,f6,Rxh8,Nxh8,Nh7,Be7,Nb3,b6,Nc1,Ng6,Qa3,Rh8,Qxa6,Rxh7,Qxb6+,Kc8,Nb3,Nf4+,Bxf4', 'Qh3+,Kg1,Qh1#', 'https://lichess.org/training/Q4u77');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q4Wab', 'Classical', 'Kennessai', 1640, 'Kostya2000', 1848, 'd4,d5,c4,dxc4,e4,g6,Nc3,Bg7,Nf3,e6,Bxc4,Ne7,O-O,O-O,Re1,c6,e5,Nd5,Bg5,f6,Bh4,g5,Bg3,g4,Nh4,f5,f3,Qg5,Nxd5,cxd5,Bd3,f4,Bf2', 'g3,hxg3,fxg3', 'https://lichess.org/training/q4Wab');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q4wIM', 'Rapid', 'ahork', 1763, 'IB11', 1749, 'c4,e5,Nc3,Nf6,e3,d5,cxd5,Nxd5,Bc4,Be6,Nxd5,Bxd5,Bxd5,Qxd5,Qf3,Qe6,Qxb7,Qc6,Qc8+,Ke7,Qg4,g6,Qf3,Bg7,Qxc6,Nxc6,a3,Rhe8,Ne2,Rad8,O-O,Kf8,Rb1,Rd7,b4,Red8,Rd1,a6,a4,a5,b5,Nb4,Ba3,Kg8,g3,Rxd2,Rxd2,Rxd2,Nc3,Rd3,Bb2,e4,Nxe4,Bxb2,Rxb2,Ra3,Nc5,Nd3,Rc2', 'Ra1+,Kg2,Ne1+,Kf1,Nxc2+', 'https://lichess.org/training/Q4wIM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q4xza', 'Rapid', 'luis101073', 1927, 'x1994ahmed', 1885, 'e4,d5,exd5,Qxd5,Nc3,Qd6,h3,Bf5,Nf3,a6,d4,e6,g4,Bg6,Ne5,Nc6,Nxg6,hxg6,Be3,O-O-O,Qe2,Nxd4,Bxd4,Qxd4,Rd1,Qf6,Bg2,Bb4,Bxb7+,Kxb7,Qe4+,Kc8', 'Qa8#', 'https://lichess.org/training/q4xza');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 28;
-    }
-
-}
\ No newline at end of file
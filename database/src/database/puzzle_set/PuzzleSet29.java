@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet29 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q4yzB', 'Rapid', 'cehaujot', 1602, 'JGAdami', 1558, 'd4,Nf6,c4,g6,Bg5,Bg7,Qc1,O-O,Bh6,d6,Bxg7,Kxg7,e3,e5,dxe5,dxe5,b3,Nc6,g3,Re8,Nf3,e4,Nfd2,Bg4,Bg2,Bf3,Nxf3,exf3,Bxf3,Qd3,Be2,Qe4,O-O,Ne5,Nd2,Qf5,Qb1,Qxb1,Raxb1,Rad8,Nf3,Nxf3+,Bxf3,Rd2,a4,b6,Rfd1,Red8,Rxd2,Rxd2,Kf1,h5,Ke1,Rd6,Rd1,Ne8,Bb7,Kf6,Ba6,Ke5,Bb5,Nf6,f4+,Ke4,Rxd6,cxd6,Kd2,Ng4,h3,Nxe3,Be8,Nf1+,Kc3,Nxg3,Bxf7,Kxf4,Bxg6,h4,Kd4,Ne2+,Kd5,Kg3,Bf5,Nc1,b4,Na2,b5,Nc3+,Kxd6,Nxa4,Kc6,Nb2,c5,bxc5,Kxc5,Na4+,Kc6,Kf4,Bd7,Ke5,Kc7,Kd5,Kb7', 'Nc5+,Kc7,Nxd7,Kxd7,Kc5', 'https://lichess.org/training/q4yzB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q50VL', 'Blitz', 'Subhorup8', 1767, 'Diego_Hancco_PUCP', 1900, 'd4,e6,Nf3,d5,Bf4,Bd6,Bg3,Nf6,e3,c5,c3,Nc6,Nbd2,Bd7,Bd3,Bxg3,hxg3,cxd4,cxd4,Rc8,Rc1,Na5,Ne5,h5,Rxc8,Qxc8,Nb3,Nxb3,axb3,Ne4,Qf3', 'Qc1+,Qd1,Qxd1+,Kxd1,Nxf2+', 'https://lichess.org/training/q50VL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q53Y9', 'Blitz', 'smyrnaa', 2304, 'worldgee', 2167, 'e4,d6,d4,g6,Nc3,Bg7,f4,Nf6,Be3,a6,Bc4,b5,Bb3,Bb7,e5,Bxg2,exf6,exf6,Bd5,Bxh1,Bxh1,c6,Qe2,O-O,O-O-O,d5,h4,f5,h5,Re8,hxg6,hxg6,Qf2,Nd7,Nf3,Nf6,Bd2,b4,Ne2,Ng4,Qg2,Ne3,Bxe3,Rxe3,Rg1,Qe7,Ne5,Bxe5,fxe5,Qh4,Qf1,Kg7,Nf4,Rh8,Kb1,Rg3,Rxg3,Qxg3,Bg2,Rh2,b3,a5,Kb2,Qc3+,Kb1,Qxd4,Nh3,Qxe5,Qg1,a4,bxa4,c5,a5,c4,a6,Qg3,a7,Rxg2,Qd4+,Kh6,a8=Q', 'Qe1+,Kb2,c3+,Kb3,Qb1+,Ka4,Qxa2+,Kxb4,Qxa8', 'https://lichess.org/training/q53Y9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q57XP', 'Rapid', 'cipumellaricas', 2007, 'mtu_nguch', 2112, 'e4,Nc6,d4,e5,dxe5,Nxe5,Nc3,Bc5,f4,Ng6,Nf3,d6,Bd3,Nf6,Qe2,O-O,Be3,Bb4,O-O,Bxc3,bxc3,h6,Rad1,Qe7,e5,Ng4,h3,Nxe3,Qxe3,dxe5,fxe5,Nh4,Qe4,Bf5', 'Qxh4,Qxh4,Nxh4', 'https://lichess.org/training/q57XP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q58aL', 'Rapid', 'frollin', 1827, 'Ustica', 1824, 'd4,d5,Bf4,g6,e3,Bg7,Nf3,Nf6,Bd3,Bg4,Nbd2,O-O,c3,Nbd7,O-O,c5,dxc5,Nxc5,Bc2,Nce4,Nxe4,dxe4,Qxd8,Rfxd8,Nd4,Nd5,Bg3,e5,Nb3,Be2,Rfe1,Bd3,Rac1,b6,Red1,Nb4,Bb1,Bxb1,Rxb1,Nd3,Nd2,f5,Nc4,Rd5,Rd2,Rad8,Rbd1,b5,Na3,a6,f3,Bh6,f4,exf4,Bxf4,Bxf4,exf4,e3,Re2,Nxf4,Rxd5,Rxd5,Rxe3,Rd1+,Kf2,Nd3+,Ke2,Nxb2,Re8+,Kg7,Ra8,Ra1,Rxa6,Rxa2,Ra7+,Kh6,Nxb5,Rxa7,Nxa7,Kg5,Ke3,f4+,Kd4,Na4,Nb5,Kf5,c4,Ke6,c5,g5,c6,Nb6,Kc5,Nc8,c7,Kd7,Kd5,g4,Ke5', 'f3,gxf3,gxf3,Nd4,f2', 'https://lichess.org/training/Q58aL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q59sT', 'Blitz', 'timothyha', 1928, 'metalson', 1985, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,a6,Nf3,Nf6,O-O,e6,d4,b5,Bd3,Be7,Ne4,Bb7,Nxf6+,Bxf6,c3,O-O,Qc2,h6,Be3,Nd7,Rad1,Bxf3,gxf3,Nb6,Kh1,Rc8,Rg1,Kh8,Rg3,Nd5,Qd2,Nxe3,Qxe3,Qe7,Rh3,Kg8,Rg1,Bg5,f4,Bf6,Rxh6,g6,Qh3,Bg7,Rh7,Qf6,Rh4,c5,dxc5,Rxc5,Rhg4,Rh5,Qg2,Rh6,Qc6,Rd8,Qf3,Rd5,Be4,Rdh5,R1g2,Qd8,Qe2,Rh3,Bxg6,Rxg6', 'Rxg6,fxg6,Qxe6+,Kf8,Qxh3', 'https://lichess.org/training/q59sT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q5bxF', 'Rapid', 'saied0098', 1867, 'ElAtrida', 1833, 'e4,c5,Bc4,e6,h3,a6,Nf3,b5,Be2,Bb7,d3,Nc6,c3,Bd6,Bg5,f6,Be3,Nge7,Nh4,Ne5,Bh5+,N5g6,Qg4,O-O,Nxg6,hxg6,Bxg6,Nxg6,Qxg6,Qe7,Nd2,f5,g4,f4,O-O-O,fxe3,fxe3,Rf6,Qh5,Raf8,g5,Rf2', 'g6,Qh4,Qxh4', 'https://lichess.org/training/q5bxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q5eQo', 'Classical', 'InProgress123', 1655, 'Lincon23', 1776, 'd4,d5,c4,c6,Nc3,e6,Nf3,dxc4,e3,b5,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/Q5eQo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q5LK6', 'Classical', 'nimeni21', 2110, 'hansaka', 1728, 'd4,d5,Bf4,Nf6,e3,e6,c4,c6,Nc3,Bd6,Bg3,Qe7,Nf3,Nbd7,Be2,b6,cxd5,exd5,O-O,Bxg3,hxg3,Ne4,Rc1,Bb7,Qa4,O-O,Ba6,Bxa6,Qxa6,Rfc8,Nxd5,Qe8,Nf4,Ndf6,Rfd1,Ng4,Rc2,Nxg3,fxg3,Nxe3,Re2,Nxd1,Rxe8+,Rxe8,Qb7,Nxb2,Qxc6,Rac8,Qb5,Nc4,Nd5,Nd6,Qd7,Red8,Qxa7,Ne4,Ne7+,Kf8,Nxc8,Rxc8,Qb7,Rc1+,Kh2,Nf2,Ng1,Ng4+,Kh3,Nf2+,Kh4,Rxg1,Qc8+,Ke7,Qc7+,Ke8,Qc6+,Ke7,Qb7+,Kf8,Qb8+,Ke7,Qe5+,Kf8,Qb8+,Ke7,g4,Rh1+,Kg3,Ne4+,Kf4,Nf6,Qb7+,Ke8,g5,Rf1+,Ke5,Re1+,Kd6', 'Re6+,Kc7,Re7+,Kxb6,Rxb7+', 'https://lichess.org/training/q5LK6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q5O28', 'Blitz', 'indiomiguel', 2142, 'Empuerto26', 2059, 'Nf3,Nf6,d4,g6,c4,Bg7,Nc3,O-O,e4,d6,Be2,Bg4,O-O,Nc6,Be3,Bxf3,Bxf3,e5,d5,Ne7,Be2,Nd7,f3,f5,Qd2,f4,Bf2,a6,b4,g5,c5,dxc5,bxc5,Re8,Rfb1,b6,d6,cxd6,cxd6,Nc6,Qd5+,Kh8,Qxc6,Rc8,Qa4,Rxc3,Qxa6,Nc5,Qxb6,Qxb6,Rxb6,Na4,Rb4,Rc2,Kf1,Nc3,Bc4,Rd8,Bc5,Bf8,a4,Bxd6,Bxd6,Rxd6,a5,Rdd2,a6,Rf2+,Ke1,Rxg2,a7', 'Rg1+,Bf1,Re2#', 'https://lichess.org/training/Q5O28');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q5Q3E', 'Blitz', 'cernunnoss', 1738, 'creeperland', 1747, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Bg4,Be2,Bxe2,Ngxe2,Nc6,cxd5,Nxd5,Bd2,e6,O-O,Be7,Rc1,O-O,Ne4,Rc8,Nc5,Qb6,Nd7,Qxb2,Nxf8,Bxf8,Rb1,Qxa2,Rxb7,Qa6,Rb1,Qc4,Be3,Ncb4,Rc1,Qa6,Rxc8,Qxc8,Qd2,a5,Rc1,Qa6,Nc3,Nxe3,fxe3,a4,Ra1,a3,Na2,Nd5,e4,Nb6,Nc3,Nc4,Qe2,Bb4,Na2,Be7,d5,exd5,exd5,Qa7+,Kf1,Ne3+,Ke1,Qc5,Rc1,Qa5+,Kf2,Bc5,Kf3,g6,d6,Nf5,Qe8+,Kg7,Qe5+,f6,Qxc5,Nh4+,Kf2,Qd2+,Kf1', 'Qxg2+,Ke1,Nf3+,Kd1,Qd2#', 'https://lichess.org/training/Q5Q3E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q5QjV', 'Blitz', 'FM FlinkerFreddy', 2228, 'IM BahadirOzen', 2442, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,f4,e6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,Ngf6,Bd2,Qc7,Ne5,Nxe5,fxe5,Nd5,O-O-O,O-O-O,Ne4,f5,exf6,gxf6,c4,f5,Nf2,Nf4,Qf3,Rxd4,Be3,Rxd1+,Rxd1,Nxh5,Qxh5,Bg7,Qf3,Rd8,Nd3,Qa5,a3,Qa4,c5', 'Qc4+,Kb1,Rxd3,Rxd3,Qxd3+', 'https://lichess.org/training/q5QjV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q5sVw', 'Rapid', 'philipperoy', 1727, 'uG3oz', 1775, 'e4,g6,Nf3,Bg7,c3,d6,h3,Nf6,d3,O-O,Be2,c6,O-O,Nbd7,Re1,e5,Nbd2,Qc7,Nf1,Nh5,N3h2,f5,Bxh5,gxh5,Qxh5,Nf6,Qg5,f4,Nd2,Be6,Ng4,Nxg4,hxg4,Qd7,f3,Rf6,Qh4,Rh6,Qf2,Rf8,g3,b5,Kg2,Rff6,b3,Bxg4,fxg4,Qxg4,Rh1,f3+,Nxf3,Rxh1,Kxh1,Qxf3+,Qxf3,Rxf3,Kg2,Rxd3,c4,Kf7,Bg5,h6,Bh4,bxc4,bxc4,Rd4,Rb1,Rxc4,Rb7+,Kg6,Rxa7,Rxe4,Kf3,Rc4,Rd7,e4+,Kg4,e3+,Kf3,Bd4,Rxd6+,Kh5,Kf4,e2', 'g4+,Kxh4,Rxh6#', 'https://lichess.org/training/q5sVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q5uEs', 'Blitz', 'TrianaFJ', 2048, 'tangalarga', 2089, 'd4,Nf6,c3,e6,Bg5,c5,e3,cxd4,exd4,d5,Bd3,Be7,Bxf6,Bxf6,Nd2,O-O,f4,Qc7,g3,a6,Ngf3,b5,h4,Nc6,Bxh7+,Kh8,Bd3,g6,Ng5,Kg7,h5,Rh8,Qe2,Bxg5,fxg5,Qxg3+,Kd1,Qxg5,Kc2,Bd7,Rag1,Qf6,Bxg6,Rac8,Bxf7+,Kf8,Rf1,Nxd4+,Kb1,Nxe2,Rxf6,Ke7,Rhf1,Ng3,R1f3,Nxh5,Bxh5,Rxh5,a3,Kd6,Nb3,Rh2,Nd4,Rg8,Re3,Re8,Nf5+,Kc7,Ng7,Rg8,Nxe6+,Bxe6,Rfxe6,Rgg2,Re7+,Kc6', 'R3e6+,Kc5,Rc7#', 'https://lichess.org/training/Q5uEs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q5UqC', 'Classical', 'qlitzler', 1625, 'kingandqueen1', 1694, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,dxc4,e4,Be7,Nf3,O-O,Bxc4,Nc6,d5,Nb8,O-O,exd5,Nxd5,Nxd5,Bxe7,Qxe7,Qxd5,c6,Qh5,Qxe4,Ng5,Qg6,Bxf7+,Rxf7,Qxg6,hxg6,Nxf7,Kxf7,Rad1,Bf5,Rd8,Ke7,Rfd1,Bd7', 'R1xd7+,Nxd7,Rxa8', 'https://lichess.org/training/Q5UqC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q5w22', 'Classical', 'karthsel', 1628, 'pawanadur', 1661, 'e4,e5,Nf3,d6,d4,Nc6,d5,Nd4,Nc3,Nxf3+,Qxf3,Nf6,Bg5,Be7,Bxf6,Bxf6,Bb5+,Bd7,O-O,O-O,Bd3,c6,Rae1,Qc8,Re3,Bg5,Re2,Bg4,Qg3,Bf4,Qh4,h6,f3,Bd7,g4,cxd5,Nxd5,Qc5+,Kh1,Bg5,Qg3,Be6,f4,Bf6,Nxf6+,gxf6,f5,Bc4,Qh4,Kg7,Rg1,Rh8,Reg2,Bxd3,cxd3,Rag8,g5,hxg5', 'Rxg5+,Kf8,Rxg8+,Rxg8,Qh6+', 'https://lichess.org/training/q5w22');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q5wAb', 'Rapid', 'alfve', 1831, 'MohammedKhaled', 1830, 'e4,c5,c3,e6,d4,Nc6,d5,Ne5,Bf4,Bd6,Nf3,Qf6,Bxe5,Bxe5,Na3,Nh6,Nc4,Bf4,e5,Qf5,Bd3,Qg4,Nd6+,Kd8,h3,Qxg2,Rg1,Qxh3,dxe6,fxe6,Qe2,Kc7,Rxg7,Rg8,Nb5+,Kb6,Rxg8,Nxg8,a4,Qh1+,Qf1,Qxf3,a5+,Kc6,Be2,Qe4,f3,Qc2,Rd1,Bg3+,Qf2,Bxf2+,Kxf2,b6,Rd6+,Kb7,a6+,Kxa6,Nd4+,Ka5,Nxc2,Ne7,Na3,Nf5,Rd3,Ba6,Rxd7,Bxe2,Kxe2,Ka4,Nc4,Rh8,Rxa7+,Kb5,b3,h5,Kf2,h4,Kg2,h3+,Kh2,Kc6,Ra2,Nh4,Rf2,Ng6,f4,Ne7,Rf3,b5,Nd6,Kd5', 'Rd3+,Kc6,Nf7', 'https://lichess.org/training/Q5wAb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q5Wbr', 'Rapid', 'KoZeu_91', 1637, 'ejamine', 1636, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Ngf6,Nc3,e5,d4,e4,Ne5,Bb4,O-O,Bxc3,bxc3,Nxe5,dxe5,Nd7,Bf4,Nb6,f3,O-O,Qd4,Qd7,Rab1,Rac8,Rfd1,Rc4,Qe3,Na4,Rb3,Rfc8,fxe4,Rxe4', 'Qxe4,dxe4,Rxd7', 'https://lichess.org/training/q5Wbr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q5WhU', 'Rapid', 'kopa851', 2303, 'Guilhermexpt', 2035, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Qb6,Ngf3,Nc6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nf3,Qb6,Qa4,Be7,Qg4,Bf8,Be3,Qxb2,Rfc1,Nxe5,Nxe5,Qxe5,Bb5+,Bd7,Bxd7+,Kxd7,Qa4+,Kd8,Qa5+,Ke7,Rc7+,Kf6,Rd1,Bd6', 'Bd4,Qxd4,Rxd4', 'https://lichess.org/training/Q5WhU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q5yyd', 'Blitz', 'sandokaan', 2457, 'FM HAMHAM22', 2407, 'd4,a6,c4,c6,Nc3,d5,Nf3,Nf6,Bf4,dxc4,e4,b5,Be2,Bb7,O-O,Nbd7,Re1,Nb6,b3,cxb3,Qxb3,e6,a4,Be7,d5,exd5,axb5,axb5,exd5,Rxa1,Rxa1,Nfxd5,Nxd5,Nxd5,Bd2,O-O,Bd3,Bf6,Re1,Bc8,h3,Be6,Qc2,h6,Qxc6,b4,Rxe6,fxe6,Qxe6+,Kh8,Qf5,Kg8,Bc4,Bc3,Qe6+,Kh8,Bxd5,Bxd2,Nxd2,Rf6,Qe4,Rd6,Bf7,Rxd2,g3,Rd1+,Kg2,Rd7,Be6,Re7,Qf5,Qe8,Bd5,Qd7,Qf3,g5', 'Qf8+,Kh7,Qg8#', 'https://lichess.org/training/Q5yyd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q5ZKZ', 'Rapid', 'petrovich6112', 1811, 'Ak_Rubinstein', 1819, 'e4,c5,c4,g6,d3,Bg7,a3,Nc6,Nc3,d6,h3,Nf6,Nf3,O-O,Be2,b6,O-O,Bb7,Rb1,Ne8,Nd5,e6,Nc3,Nc7,Bg5,Qd7,Be3,d5,cxd5,exd5,exd5,Nxd5,Nxd5,Qxd5,Nh2,Rad8,f3,Rfe8,Bf2,Nd4,Bxd4,Bxd4+,Kh1,Re3,Ng4,Re6,Qc2,Rde8,Bd1,h5,Nf2,Qf5,Ne4,Be5,Qf2,Bb8,Bb3,R6e7,Qh4,Be5,Ba4,Kg7,Bxe8,Rxe8,Rbd1,Bb8,Qg5', 'Bxe4,Qxf5,Bxf5', 'https://lichess.org/training/Q5ZKZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q60d3', 'Rapid', 'Tandow', 2095, 'nagno', 2041, 'e4,e6,f4,c5,Nf3,Nf6,Nc3,d6,Be2,Be7,O-O,a6,d4,cxd4,Nxd4,Qb6,Kh1,Nc6,Na4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/q60d3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q63Aa', 'Bullet', 'ANASTASIAKOKAEVA', 1698, 'luluca', 1596, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Nf6,Bf4,a6,e3,e6,Nf3,Bd6,Ne5,O-O,Bd3,Nc6,Nxc6,bxc6,Bxd6,Qxd6,O-O,c5,dxc5,Qxc5,Rc1,Qb6,Na4,Qa5,Rc5,Qd8,Qc2,Bd7,Rc1,Rb8,Bxa6,Bxa4,Qxa4,Rxb2,h3,Qb8,Rc8,Qb4,Rxf8+,Kxf8,Rc8+,Ke7,Qe8+,Kd6,Qd8+,Ke5,f4+,Ke4,Rc4+,dxc4', 'Qd4+,Kf5,Qe5+,Kg6,Qg5#', 'https://lichess.org/training/q63Aa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q65vF', 'Rapid', 'ehteshami', 1838, 'Mihasi_md', 1898, 'e4,c5,Nf3,e6,Nc3,Nf6,h3,a6,d3,d5,exd5,Nxd5,Be2,Nxc3,bxc3,Be7,O-O,Bf6,Bd2,O-O,Rb1,Nc6,Qe1,b5,Be3,Qd6,a3,h6,Qd2,Kh7,Nh2,e5,f4,exf4,Bxf4,Be5,Bxe5,Nxe5,Qf4,Qe6,Qe4+,Ng6,Qxa8,Qxe2,Rf2,Qe5,Qf3,Qxc3,Ng4,Be6,Ne3,Qxa3,h4,Qa2,Rbf1,Nxh4,Qh5,Ng6,Nf5,Qb2,Nd6,Qd4,Ne4,c4', 'Ng5+,Kh8,Nxe6,fxe6,Qxg6', 'https://lichess.org/training/Q65vF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q665v', 'Rapid', 'bahriny2492', 1732, 'SantinofedeDupuy13', 2095, 'e4,c5,Nf3,e6,Nc3,a6,d4,cxd4,Qxd4,Qc7,Bd3,b5,Ne5,Bc5,Nd5,Qd6,Qc3,exd5,exd5,Nf6,O-O,O-O,Bf4,Qxd5,Rad1,Bb7', 'Bxh7+,Nxh7,Rxd5,Bxd5,Qxc5', 'https://lichess.org/training/Q665v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6ASC', 'Classical', 'hamleh3', 1883, 'gandalfthedude', 1920, 'e4,e6,d4,d5,Nc3,Nf6,Bd3,c5,dxc5,Bxc5,Be3,Bxe3,fxe3,Qb6,Qd2,Qxb2,Rb1,Qa3,Nb5,Qe7,e5,Ne4,Bxe4,dxe4,Nd6+,Kf8,Nxc8,Nc6,Nd6,Nxe5,Rxb7,Nd7,Nxe4,Rd8,Qd6,Qxd6,Nxd6,Ne5,Ne4,g6,Ne2,Kg7,Rf1,a5,N2c3,Rc8,Rb3,Rc4,Nd6,Rc7,Nde4,Rhc8,Rf2,f5,Nd6,Rd8,Ndb5,Rc5,a4,Ng4,Rd2,Rdc8,h3,Nxe3,Re2,f4,g3,e5,Kd2,Nf1+,Kc1,Nxg3,Rg2,Rc4,Nd6', 'Rxc3,Nxc8,Rxc8', 'https://lichess.org/training/Q6ASC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q6b3y', 'Rapid', 'CrapCrusher', 1821, 'adstalker', 1748, 'Nf3,e6,e4,d5,exd5,exd5,d4,Nf6,Nc3,c5,Bb5+,Nc6,O-O,cxd4,Nxd4,Qc7,Qe2+,Be7,Nxc6,bxc6,Bd3,O-O,Bg5,h6,Bxf6,Bxf6,Rfe1,Be6,Qf1,Rfe8,f4,Qb6+,Kh1,Qxb2,Na4,Qa3,f5,Be5,fxe6,f6,Qf5,Bxa1,Qh7+,Kf8,Qh8+,Ke7', 'Qxg7+,Kd6,Qd7#', 'https://lichess.org/training/q6b3y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6c4x', 'Blitz', 'calul2001', 1631, 'Santos13', 1567, 'e4,g6,Nf3,Bg7,d4,d5,exd5,Qxd5,Nc3,Qa5,Bd2,c6,Bd3,Bg4,O-O,Nf6,h3,Bxf3,Qxf3,Nbd7,Rad1,Qc7,Rfe1,O-O,Rxe7,Qd6,Rde1,Qxd4,Qe3,Qd6,Qf3,b6,Bg5,Nc5,Bxf6,Bxf6,Ne4,Nxe4,R7xe4,Bxb2,h4,Bg7,h5,Qa3,Rh4,Qxa2,hxg6,hxg6,Re7,Qd5,Qh3,Rfe8,Bxg6,Rxe7', 'Rh8+,Bxh8,Qh7+,Kf8,Qxh8#', 'https://lichess.org/training/Q6c4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6dNX', 'Rapid', 'globalideias', 1699, 'ez64', 1677, 'e4,e5,Nc3,d6,Nf3,Be7,d4,exd4,Nxd4,Nf6,Bc4,O-O,O-O,c6,f4,Bg4,Be2,Bxe2,Ndxe2,c5,e5,dxe5,fxe5,Ng4,Bf4,c4,Nd4,Bc5,Qxg4,Bxd4+,Kh1,Nd7,Bh6,Bxe5,Rad1,Qb6,Bxg7,Bxg7,Qxd7,Qxb2,Ne4,Rad8,Qg4,Rxd1,Qxd1,Qe5,Qg4,b5', 'Nf6+,Kh8,Nd7', 'https://lichess.org/training/Q6dNX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6Esn', 'Rapid', 'Art_Kip', 1641, 'Edwin73', 1634, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qe7,Nc3,Nf6,Bd3,c5,Qe3,Ng4,Qf3,d6,Nd5,Qd8,h3,Nf6,Nxf6+,Qxf6,Qxf6,gxf6,Bc4,Be6,Bd5,Bxd5,exd5,O-O-O,Be3,Bg7,c3,Rhe8,Kd2,f5,Bf4,Be5,Bg5,f6,Be3', 'f4,Bxf4,Bxf4+', 'https://lichess.org/training/Q6Esn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6g1Y', 'Rapid', 'tqd0306', 2089, 'ACT-ZiDong', 2133, 'e4,c5,Bc4,Nc6,d3,Nf6,Nc3,g6,a3,Bg7,Bg5,O-O,Nf3,Qb6,Bb3,d6,h3,Bd7,O-O,Rac8,Re1,Na5,e5,dxe5,Nxe5,Bb5,Bxf7+,Rxf7,Nxf7,Kxf7,Bxf6,Bxf6,Nd5,Qc6,Qf3,Rd8,Rxe7+,Kf8,Nxf6', 'Qxf3,gxf3,Kxe7', 'https://lichess.org/training/Q6g1Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q6gZt', 'Rapid', 'hasanhan95', 1706, 'Lizardplays', 1713, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,Bg4,dxe5,Nxe5,Be2,Bxf3,Bxf3,Qf6,Nd2,g6,b3', 'Nxf3+,Qxf3,Qxa1', 'https://lichess.org/training/q6gZt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q6hDx', 'Rapid', 'terrace', 1818, 'seg32', 2036, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,e3,c6,a4,a5,Nf3,Bd6,Be2,O-O,O-O,Bf5,Qb3,Qc8,Nh4,Be6,Bd3,g6,Qd1,Na6,Be2,Qc7,f4,Rfe8,Qe1,Kg7,Nf3,Bf5,Qh4,Rh8,Ne5,Ne4,Bf3,Be7,Qe1,Nb4,Qd1,Rae8,g4,Bc8,Nxe4,dxe4,Bxe4,f6,Nc4,b5,axb5,cxb5,Nxa5,Bd6,Bb1,Be6,Nb3,Bd5,Rf2', 'Bxb3,Qxb3,Qxc1+', 'https://lichess.org/training/q6hDx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6J61', 'Rapid', 'tbunji', 2234, 'zokki6', 2091, 'd4,e6,c4,f5,g3,Nf6,Bg2,Be7,Nh3,O-O,O-O,d5,Nc3,c6,b3,b6,Bb2,h6,Nf4,g5,Ng6,Rf7,Nxe7+,Qxe7,Rc1,Ba6,cxd5,cxd5,Re1,Nbd7,e3,Ne4,Nxe4,fxe4,Bh3,Raf8,Rc2,Nf6,Qc1,g4,Bf1,Bxf1,Rxf1,Nh7,Ba3,Qf6,Bxf8,Rxf8,Rc8,Ng5,Rxf8+,Qxf8,Qc7', 'Nh3+,Kh1,Qf3#', 'https://lichess.org/training/Q6J61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6LDu', 'Rapid', 'lukafra', 1664, 'Alo010203003', 1652, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Nb3,Nc6,f4,e5,Be2,Be6,O-O,Bxb3,axb3,Be7,Re1,O-O,Bc4,Qb6+,Be3,Qc7,Qf3,exf4,Bxf4,Ne5,Bxe5,dxe5,Nd5,Nxd5,exd5,f6', 'd6+,Qxc4,bxc4', 'https://lichess.org/training/Q6LDu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q6mDS', 'Classical', 'gangquan', 1730, 'berserk182', 1706, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Qxe4+,Be3,Bg4,Be2,Be7,O-O,O-O,h3,Bh5,Nfd2,Qf5,Bxh5,Qxh5,f3,Nd5,Bf2,Bh4,Bxh4,Qxh4,Qe2,Nc6,c3,Rfe8,Ne4,f5,Qb5,fxe4,Qxd5+,Kh8,fxe4,Qxe4', 'Rf8+,Rxf8,Qxe4', 'https://lichess.org/training/q6mDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q6n8n', 'Blitz', 'CristoferV', 1772, 'hectorcuper82', 1731, 'c4,d5,Nc3,d4,d3,dxc3,bxc3,Nf6,e4,e5,f4,exf4,Nf3,Nc6,Bxf4,Ba3,e5,Nd7,d4,Bb2,Bd3,Bxc3+,Kf1,Bxa1,Qxa1,O-O,d5,Ne7,Ng5,Ng6,Qe1,Nxf4,Bxh7+,Kh8,Qh4,g6', 'Bxg6+,Nh5,Qxh5+,Kg7,Qh7#', 'https://lichess.org/training/q6n8n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6nWW', 'Rapid', 'khoko', 1803, 'Afkare', 1803, 'c4,e6,a3,Nf6,g3,c6,Bg2,d5,cxd5,exd5,Nf3,Bf5,d4,h6,O-O,Qd7,Qb3,Bd6,Nc3,b6,Na4,Bh3,Ne5,Bxe5,dxe5,Bxg2,Kxg2,Ne4,Nc3,Qf5,Bf4,g5,Nxe4,Qxe4+,f3,Qf5,Bd2,Qxe5,e3,Nd7', 'Bc3,Qe6,Bxh8', 'https://lichess.org/training/Q6nWW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6oUg', 'Rapid', 'masterRx', 1916, 'geographybuff', 1904, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nxc6,Qxc6,Nc3,e5,Qd5,f6,Bc4,Ne7,Qf7+,Kd8,Be3,a6,a3,b5,Bd5,Nxd5,Qxd5,Bb7,Qxc6,Bxc6,f3,b4,axb4,Bxb4,Bd2,Ke7', 'Nd5+,Bxd5,Bxb4+,Kf7,exd5', 'https://lichess.org/training/Q6oUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6rRt', 'Rapid', 'lime8888', 1914, 'srisan', 1879, 'e4,e5,Bc4,Nf6,d3,Nc6,c3,d5,exd5,Nxd5,Qb3,Na5,Qb5+,c6,Qa4,b5,Bxb5,cxb5,Qxb5+,Ke7,Nf3,f6,c4,Nf4,Bxf4,exf4,O-O,Kf7,Re1,Be6,b4,Qxd3,Qxa5,Qxc4,Nbd2,Qxb4,Qc7+,Qe7,Qc6,Rc8,Qa6,Qd7,Nd4,Bd5,N2f3,Bc5,Rad1,Rhe8,Rxe8,Rxe8,h3,Bxf3,gxf3,Bxd4,Qc4+,Kf8,Rxd4,Re1+,Kg2,Qe7', 'Qc8+,Kf7,Rd7', 'https://lichess.org/training/Q6rRt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q6s93', 'Rapid', 'Carchunator', 1808, 'SERASKER', 1741, 'e4,d6,Nc3,c6,g3,Nf6,Bg2,g6,d3,Bg7,f4,O-O,Nf3,Bg4,O-O,Bxf3,Qxf3,Na6,h3,Qb6+,Kh2,Nb4,Qe2,e6,a3,Na6,g4,e5,f5,d5,g5,Nh5,f6,Bh8,Bf3,Nf4,Bxf4,exf4,Bg4,Qc7,Qf3,Qe5,h4,dxe4,dxe4,h6,Kg2,hxg5,hxg5,Qxg5,Qxf4,Qc5,e5,Nc7,Bf5,Nd5,Nxd5,Qxd5+,Kg3,Rae8,Rh1,Rxe5,Rh7,Rxf5', 'Rxh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/q6s93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6tvZ', 'Rapid', 'OrcShaman', 1961, 'chaote', 1842, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,c3,Bc5,O-O,Ne7,cxd4,Bxd4,Nc3,O-O,d3,c6,Bg5,h6,Bh4,d6,Rb1,Be6,Ne2,Bb6,Bb3,Bxb3,Qxb3,Qd7,Bg3,d5,Nc3,Qg4,Rbc1,Rad8,Kh1,dxe4,dxe4,Rd3,Qc2,Rfd8,Rcd1,Qd7,Rxd3,Qxd3,Qxd3,Rxd3,Rd1,Rxd1+,Nxd1,Bd4,b3,f5,Bd6,Bf6,f3,fxe4,fxe4,Ng6,g3,Kf7,Kg2,Ke6,Bb8,a6,Kf3,Ne5+,Ke2,b5,Bxe5,Bxe5,Ne3,g6,Kd3,Kf6,Ng4+,Ke6,Nxh6,Bh8,Ng4,c5,Ne3,Bd4,h4,Ke5,g4,Kf4,Nd5+,Kxg4,Nc7,Kxh4,Nxa6,g5,Nc7,b4,Nd5,Kg4,Ne3+,Kf3,Nf5,g4,Nxd4+,cxd4,e5,g3,e6,g2,e7,g1=Q,e8=Q,Qd1+,Kc4,Qe2+', 'Qxe2+,Kxe2,Kxd4', 'https://lichess.org/training/Q6tvZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6uf6', 'Classical', 'VLADIM1940', 2140, 'Ifafa', 2138, 'd4,Nf6,c4,g6,Bf4,Bg7,e3,O-O,Nc3,d5,Nf3,c5,dxc5,Qa5,Be2,Rd8,O-O,dxc4,Qa4,Qxa4,Nxa4,Be6,Nd4,Bd5,Nc3,Nbd7,Nxd5,Nxd5,Bg3,e5,Bxc4,Nxc5,Nb5,Nb6,Rac1,Nxc4,Rxc4,b6,b4,Ne6,Nc7,Nxc7,Rxc7,a5,bxa5,Rxa5,Rb7,Rxa2,Rxb6,Rad2,h3,Rd1,Rxd1,Rxd1+,Kh2,Rd8,Rb7,f6,Re7,Kf8,Rb7,h5,h4,Re8,f3,Re7,Rb8+,Kf7,e4,Rd7,Kh3,Bf8,Bf2,Be7,g4,Rd2,Kg3,f5,exf5,gxf5,g5', 'f4+,Kg2,Bc5', 'https://lichess.org/training/Q6uf6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q6v60', 'Rapid', 'gladiators29', 1786, 'Erild', 1793, 'e4,e5,Nf3,Bc5,Nxe5,d5,Qe2,dxe4,Qxe4,Nf6,Qe2,O-O,d3,Re8,f4,Nc6,Nc3,Ng4,Nxg4,Rxe2+,Bxe2,Bxg4,Bxg4,Qe7+,Be2,Re8,Ne4,f5,Bd2,fxe4,dxe4,Qxe4,O-O-O,Nd4,Bd3,Qd5,b3,a5', 'Bc4,Qxc4,bxc4', 'https://lichess.org/training/q6v60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q6WD1', 'Classical', 'Gepard1988', 2094, 'kinemod', 2064, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nf6,e5,d5,exf6,dxc4,Qe2+,Be6,fxg7,Bxg7,Nxc3,Nc6,Nf3,Qe7,Bf4,a6,Rd1,O-O,O-O,Rad8,Rxd8,Rxd8,Re1,Nd4,Nxd4,Rxd4,Be5,Bxe5,Qxe5,Rg4,Nd5,Qg5', 'Nf6+,Kg7,Nxg4+', 'https://lichess.org/training/q6WD1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q6XMS', 'Rapid', 'E4clabase', 1678, 'Ivan_2009', 1617, 'e4,e5,Nf3,d6,d4,Nc6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bc4,Nf6,Nc3,Bb4,f3,Ke7,Bd2,Be6,Bxe6,Kxe6,a3,Ba5,b4,Bb6,O-O-O,Rhd8,Bg5,h6,Bxf6,gxf6,Nd5,f5,Rd3,fxe4,fxe4,c6,Ne3', 'Rxd3,cxd3,Bxe3+', 'https://lichess.org/training/Q6XMS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q6ZYz', 'Classical', 'dehdar3258', 1819, 'blukbasaur', 1800, 'd4,e6,Nf3,d5,Bf4,c5,dxc5,Bxc5,e3,Nf6,c3,Qb6,Qc2,O-O,Nbd2,Nbd7,Nb3,Bd6,Bg3,h6,Bxd6,Qxd6,h3,b6,Be2,Bb7,O-O-O,Qc7,Nfd4,a6,Bf3,Ne4,Rhf1,Ne5,Kb1,Nxf3,gxf3,Nc5,Rg1,Rad8,f4,e5,fxe5,Qxe5,Qe2,Bc8,Nc6,Qf5+,e4,Nxe4,Nxd8', 'Nxc3+,Ka1,Nxe2', 'https://lichess.org/training/q6ZYz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q71a1', 'Rapid', 'NJP_CHESS', 1920, 'AlexeiPavlov', 1900, 'e4,e5,Nf3,Bc5,d4,exd4,Nxd4,Qf6,Nf3,Nc6,Bg5,Qxb2,Nbd2,Bb4,Bc4,Bxd2+,Nxd2,Nd4,Bb3,Nxb3,axb3,Qe5,f4,Qc5,e5,f6,exf6,gxf6', 'Qh5+,Kd8,Bxf6+,Nxf6,Qxc5', 'https://lichess.org/training/q71a1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q732u', 'Rapid', 'stsingh', 2023, 'zotbey', 1967, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,Bd3,Bxd3,Qxd3,Ngf6,Bd2,e6,O-O-O,Be7,Kb1,Qb6,Rhe1,Nd5,Nh5,Rg8,Ne5,O-O-O,Nxf7,Rdf8,Qg6,Ba3,b3,Qxd4,c3,Nxc3+,Bxc3,Qxc3,Re2,Nf6,Rc2,Qa5,Nxf6,gxf6,Qe4,e5,Nxh6,Rd8,Rg1,Rd4', 'Qf5+,Kb8,Nxg8', 'https://lichess.org/training/q732u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q73v3', 'Rapid', 'Nahdi', 1647, 'cuchu2014', 1679, 'a3,d5,h3,e5,e3,Nc6,Be2,Nf6,d3,Bc5,Bd2,d4,exd4,Nxd4,Bg5,h6,Bh4,g5,Bg3,Qe7,Nf3,Nxf3+,Bxf3,Bf5,O-O,Rd8,Re1,e4,Nc3,O-O,Bh5,Nxh5,Qxh5,Qf6,dxe4,Bg6,Qe2,Rfe8,Bxc7,Qc6,Bxd8,Rxd8,Nd5,f5,b4,fxe4,Qc4', 'Bxf2+,Kxf2,Qxc4', 'https://lichess.org/training/Q73v3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q75ar', 'Blitz', 'chrysostomos_12', 1673, 'CM34', 1672, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Qe2,b5,Bb3,Be7,Bd5,O-O,Bxc6,dxc6,Nxe5,Bb7,c3,Bd6,Nf3,Re8,d3,c5,O-O,c4,dxc4,Bxe4,Qd1,bxc4,Bg5,h6,Bh4,Bd3,Re1,g5,Nxg5,hxg5,Rxe8+,Nxe8,Qg4,f6,Nd2,Ng7,Bg3,Bxg3,hxg3,Bf5,Qf3,Rb8,Nxc4,Be6,Na5,Rxb2,Nc6,Qd2,Qxf6,Bd5', 'Ne7+,Kh7,Qg6+,Kh8,Qh6#', 'https://lichess.org/training/q75ar');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q785g', 'Rapid', 'welko', 1638, 'Rogertal', 1614, 'e4,Nf6,e5,Nd5,Bc4,e6,Nh3,d6,O-O,dxe5,d4,Nc6,c3,Be7,Re1,exd4,cxd4,O-O,Re4,Nf6,Rh4,Nd5,Rg4,f5,Rg3,Rf6,Qh5,Qf8,Ng5,Rh6', 'Qxh6,gxh6,Nxe6+,Kh8,Nxf8', 'https://lichess.org/training/q785g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q78V2', 'Classical', 'noelparty', 1682, 'GodofSin', 1680, 'd4,d5,e3,Nf6,Bd3,Bg4,Nf3,Nbd7,Nbd2,e5,dxe5,Nxe5,Be2,Bd6,b3,O-O,Bb2,Qe7,Nxe5,Bxe2,Qxe2,Bxe5,Bxe5,Qxe5,O-O,d4,Nc4,Qd5,exd4,Qxd4,Rad1,Rae8', 'Qxe8,Rxe8,Rxd4', 'https://lichess.org/training/q78V2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q7CEZ', 'Classical', 'TingelTangel10', 1895, 'miou', 1784, 'd4,d5,c4,c6,Nf3,g6,Bg5,Bg7,Nc3,Bf5,Qb3,f6,Bf4,Nd7,Qxb7,g5,Bg3,h5,h4,e5,hxg5,Ne7,gxf6,Bxf6,dxe5,Rb8,Qxa7,Nc8,Qa4,Be7,Qxc6,Rb6,Qa4,O-O,cxd5,Nc5,Qf4,Bg4,Qc4,Rxb2,d6+,Ne6,Nh2,Bg5,Nxg4,Bd2+,Kd1,Nxd6,Qxe6+,Nf7,Qg6+,Kh8,Rxh5+,Nh6,Rxh6+,Bxh6+,Qd3', 'Rd2+,Ke1,Rxd3', 'https://lichess.org/training/Q7CEZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q7FOF', 'Bullet', 'Patrick2014', 2003, 'radone', 1933, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bb6,a4,a6,Bb2,d6,b5,axb5,axb5,Rxa1,Bxa1,Na5,Ba2,Be6,Bxe6,fxe6,d4,exd4,Bxd4,Bxd4,Qxd4,e5,Qa4,b6,Nc3,Nf6,O-O,O-O,Ng5,Qe8,Qa2+,Kh8,Nd5,Nxd5,Qxd5,Rf6,Re1,h6,Nf3,Qg6,Re3,Rf4,Kf1,Rf8,h3,Rb8,Nh4,Qg5,Nf5,Kh7,Rg3,Qc1+,Ke2,Qxc2+,Qd2,Qc4+,Ke1,Rg8', 'Rxg7+,Rxg7,Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/Q7FOF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q7GPg', 'Rapid', 'contained', 1876, 'stanimirsimic', 2073, 'd4,d5,b3,Nf6,Bb2,e6,e3,c5,Nf3,Nc6,dxc5,Bxc5,Nbd2,O-O,Bd3,e5,Nxe5,Nxe5,Bxe5,Ng4,Bb2,d4,e4,Ne5,Nf3,Bg4,Be2,Qa5+,Nd2,Bxe2,Qxe2,Bb4,a3,Bc3,Bxc3,Qxc3,Qd1', 'd3,O-O,dxc2', 'https://lichess.org/training/q7GPg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q7Gvm', 'Rapid', 'Miklegro', 1902, 'abikhoshnavaz', 1855, 'e4,e5,Bc4,Nf6,Nc3,Bc5,d3,h6,h3,O-O,Qf3,d6,g4,Nc6,Nge2,Nd4,Nxd4,Bxd4,Ne2,Be6,c3,Bxc4,dxc4,Bc5,Ng3,Nh7,h4,Qf6,Nf5,Rae8,g5,hxg5,hxg5,Nxg5,Qh5,g6,Nh6+,Kg7,Qxg5', 'Qxf2+,Kd1,Qf3+', 'https://lichess.org/training/Q7Gvm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q7iQk', 'Rapid', 'ricardoviniciusc', 1811, 'GMRenanFischer', 2101, 'd4,Nf6,c4,e6,Nc3,d5,e3,Bb4,Bd2,O-O,Nf3,a6,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,c5,a3,Bxc3,Bxc3,c4,Bc2,g6,Re1,Kg7,d5,Bxd5,e4,Bb7,Qxd8,Rxd8,Ne5,Nc6,Ng4,e5,Nxe5,Nxe5,Bxe5,Rd2,Bxf6+,Kxf6,Rac1,Re8,f3,Kg7,Red1,Red8,Kf1', 'Rxc2,Rxd8,Rxc1+', 'https://lichess.org/training/Q7iQk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q7KZ6', 'Blitz', 'BlunderzZss', 2085, 'aavnikras1', 2220, 'c4,e6,Nc3,Bb4,d4,Nf6,Nf3,Nc6,Bg5,a6,e3,b5,cxb5,axb5,Bxb5,Bb7,O-O,Ne7,Bxf6,gxf6,a3,Bd6,e4,Rg8,b4,Ng6,d5,Ne5,dxe6,fxe6,Nd2,Qe7,f4,Ng4,Qf3,Qg7,Nc4,Ke7,Nxd6,cxd6,h3,Ne3,Rf2,Nxg2,Rxg2,Qh6,Be2,Rxg2+,Qxg2,Qxf4,Qg7+,Kd8,Rf1', 'Qe3+,Kh2,Qxc3,Qxf6+,Qxf6', 'https://lichess.org/training/q7KZ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q7nCX', 'Classical', 'Ahmad1222', 1733, 'TemaArtema', 1717, 'd4,d5,Bf4,Nf6,e3,g6,h3,Bg7,Bd3,O-O,Nc3,Nbd7,Nf3,c5,dxc5,Nxc5,O-O,Nxd3,Qxd3,e5,Bxe5,Re8,Bxf6,Bxf6,Rad1,Bxc3,Qxc3,Bf5,b3,Rc8,Qb4,Rxc2,Qxb7,Rxa2,Rxd5,Qb8,Qc6,Be4,Rfd1,Bxd5,Rxd5,Rc8,Qd7,Rc7,Qd8+,Qxd8,Rxd8+,Kg7,Nd4,Rc1+,Kh2,Rxf2,Rd7,a5,Ne6+,Kf6,Nd4,Rd2,Rd6+,Ke7,Ra6,Ra2,Ra7+,Kf6,Kg3,h5,h4,Rc3,Kf3,Ke5,Rxf7,a4,bxa4,Rxa4,Rd7,Raa3,Re7+,Kf6,Re6+,Kf7,Re4,Rc4,Rf4+,Ke8,Re4+,Kd7,g3,Ra1,Re5,Rf1+,Kg2,Rd1,Rd5+,Ke8,Re5+,Kf7,Re4,Rd2+,Kf3,Rd1,Rf4+,Ke7,Re4+,Kf7,Rf4+,Kg7', 'Ne6+,Kg8,Rxc4', 'https://lichess.org/training/Q7nCX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q7rPL', 'Rapid', 'Pari-rastaFari', 1860, 'iopas98', 1805, 'e4,c5,Bc4,e6,d3,d5,exd5,exd5,Bb5+,Nc6,Bxc6+,bxc6,Ne2,Bd6,O-O,Qc7,h3,Ne7,Nbc3,O-O,Kh1,Re8,Ng1,Bf5,Nf3,Qd7,Ng1,Bc7,Re1,Ng6,Bd2,Rxe1,Qxe1,Re8,Qf1,Qd6,f4,d4,Nce2,c4,Ng3,Be6,Ne4,Qd7,Nf3,Bxf4,Bxf4,Bxh3,gxh3,Nxf4,Ne5,Rxe5,Qxf4,Qxh3+,Kg1,f6,Qg3', 'Rg5,Qxg5,fxg5', 'https://lichess.org/training/Q7rPL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q7RpN', 'Rapid', 'ChretienCathalIX', 1655, 'misha20101958', 1833, 'e4,e5,f4,exf4,Nf3,Nc6,d4,d6,Bxf4,h6,Bc4,Nf6,Nc3,Be7,O-O,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Ng4,Qf3', 'Nxe5,dxe5,Qd4+,Kh1,Qxc4', 'https://lichess.org/training/q7RpN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q7S9d', 'Rapid', 'gascarov', 1741, 'panoy1234', 1716, 'b4,e5,Bb2,d6,e3,a6,c4,Nc6,a3,b6,Nc3,Nf6,b5,axb5,cxb5,Na5,a4,Bb7,Nf3,Be7,Be2,O-O,O-O,h6,d4,e4,Nd2,d5,Nb3,Nh7,Nxa5,Rxa5,Ba3,f5,Bxe7,Qxe7,Qb3,Qd7,Rfc1,f4,h3,f3,Bf1,Ng5,h4,fxg2,Bxg2,Nf3+,Bxf3,Rxf3,Nxe4,Qg4+,Ng3,Rxg3+,fxg3,Qxg3+,Kf1,Ra8,Ke2,Rf8,Rf1', 'Qg2+,Kd3,Rxf1,Rxf1,Qxf1+', 'https://lichess.org/training/q7S9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q7TDo', 'Blitz', 'ctsingh', 1662, 'shaatir_18', 1657, 'e4,e5,Nf3,Nf6,Nc3,Bc5,a3,d5,Nxe5,Nc6,Nxc6,bxc6,exd5,h5,dxc6,Ng4,Qe2+,Kf8,d4,Bxd4,Be3,Bxe3,fxe3,Rh6,h3,Nxe3,Qxe3,Re6,Ne4,f5,Qc5+,Kg8,Qxf5,Qh4+,g3,Qxg3+,Ke2,Ba6+,Kd2,Rd8+,Kc1', 'Qe1#', 'https://lichess.org/training/q7TDo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q7Up3', 'Blitz', 'sergusha', 1851, 'Shashi_Kant111', 1866, 'd4,d5,e3,c5,f4,Nc6,c3,Nf6,Bd3,g6,Nf3,Bg7,O-O,Bg4,Qc2,h5,Ne5,c4,Bxg6,fxg6', 'Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/q7Up3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q7uwQ', 'Rapid', 'inca2017', 1859, 'iran-c', 1661, 'd4,e5,dxe5,f6,Nf3,fxe5,Nxe5,Qf6,Nf3,Bc5,Nc3,Ne7,Bg5,Qb6,Bxe7', 'Bxf2+,Kd2,Qe3#', 'https://lichess.org/training/q7uwQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q7vtR', 'Rapid', 'olivier01', 1642, 'masgus', 1684, 'e4,e6,d4,d5,e5,c5,dxc5,Bxc5,Nc3,Nc6,Nf3,Nge7,Bg5,h6,Bxe7,Bxe7,Bb5,O-O,Bxc6,bxc6,Nd4,Qb6,O-O,c5,Ndb5,Ba6,a4,Bb7,g3,Qc6,f3,Ba6,Re1,Bb7,Kg2,d4,Ne4,Qb6,b3,Bxe4,Rxe4,Rad8,h4,a6,Na3,Bd6,Nc4,Qb8,Nxd6,f5,Re1,f4,gxf4,Rxf4,Kg3,Rdf8,Re4,Rxf3+,Qxf3,Rxf3+,Kxf3,Qb4,Rg1,Qd2,Rg2,Qc3+,Kf4,d3,Re3,Qd4+,Re4,Qc3,cxd3,Qxd3,Rg3,Qd2+,Ree3,Qd4+,Re4,Qd2+,Kg4,Qd1+,Rf3,Qg1+,Kf4', 'g5+,hxg5,Qxg5#', 'https://lichess.org/training/Q7vtR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q7xge', 'Blitz', 'kiwitti02', 2143, 'CM Faulitemporary', 2275, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,c3,c5,Bd3,Nc6,Ngf3,cxd4,cxd4,f6,exf6,Nxf6,O-O,Bd6,Re1,O-O,a3,Qc7,h3,Bd7,Nf1,e5,dxe5,Nxe5,Nxe5,Bxe5,Rb1,Rae8,Be3,Qd6,Bg5,Rf7,Bxf6,Qxf6,Qd2,Ref8,Re2,Bf4,Qc2,g6,Rbe1,Qg5,Kh1,Bb8,b4,Bxh3,gxh3,Rf3,Ng3,Qh4,Kg2,Bxg3,fxg3,Qxg3+,Kh1,Qxh3+,Rh2', 'Rf1+,Rxf1,Rxf1+,Bxf1,Qxf1#', 'https://lichess.org/training/Q7xge');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q7Y4H', 'Classical', 'sakkariini', 1875, 'la--nik2', 1898, 'e4,e5,Nc3,Bb4,Bc4,Nc6,a3,Bxc3,bxc3,a6,Qg4,Qf6,d3,d6,Qf3,h6,h3,Nge7,Qxf6,gxf6,Nf3,Rg8,Rg1,Bxh3', 'gxh3,Rxg1+,Nxg1', 'https://lichess.org/training/Q7Y4H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q82VQ', 'Rapid', 'lionchess9', 1662, 'finitetopology', 1656, 'g4,d5,Bg2,Nc6,h3,f5,gxf5,Bxf5,c4,e6,Qb3,Na5,Qb5+,Nc6,cxd5,exd5,Bxd5,Rb8,Qb3,Nd4,Bf7+,Ke7,Qc4,Nc2+,Kf1,Nxa1,Bxg8,b5,Qf7+,Kd6,Nf3,Rxg8,Qxg8,Qf6,d4,Nc2,Bf4+,Kc6,Nc3,Nxd4,b4,Nxf3', 'Qd5+,Kb6,Qxb5#', 'https://lichess.org/training/Q82VQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q87OS', 'Rapid', 'imnotaanarchist', 1815, 'Randy2368899qw', 1817, 'e4,e5,d3,d6,Qh5,g6,Qf3,Be7,Nc3,f6,Bh6,c5', 'Bg7,Kf7,Bxh8', 'https://lichess.org/training/Q87OS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q8ATK', 'Rapid', 'nicodeme', 1919, 'NelAndreSA', 2104, 'Nf3,d6,d4,Nf6,c4,c5,dxc5,Qa5+,Bd2,Qxc5,e3,Nc6,Nc3,Bg4,Na4,Qf5,Be2,e5,h3,Bxf3,Bxf3,Qd7,Nc3,Be7,O-O,O-O,Nd5,Rfe8,Nxe7+,Qxe7,b4,e4,Be2,Rac8,Qb3,Ne5,Rad1,Qe6,Bc1,Nxc4,Bxc4,Qxc4,Qxc4,Rxc4,Rxd6,Rxb4,Rfd1,Rb1,Rd8,Kf8', 'Ba3+,Kg8,Rxe8+,Nxe8,Rxb1', 'https://lichess.org/training/q8ATK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q8dYP', 'Rapid', 'nanopomb', 2046, 'Saaddream', 1997, 'Nc3,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nf5,Qf6,e4,Nge7,Ne3,d6,f3,Ng6,Ned5,Qd8,Nb5,Bb6,Nxb6,axb6,Nd4,Bd7,Be3,O-O,a3,Re8,Bd3,Nge5,Qd2,Nxd3+,cxd3,d5,O-O,Nxd4,Bxd4,c5,Bf2,Bb5,Rad1,Qd7,Qg5,Rad8,e5,Re6,f4,Rg6,Qh5,Rh6,Qf3,Re8,Bg3,d4,f5,Bc6,Qe2,Bd5,Bf4,Rc6,Qg4,c4,Qg5,cxd3', 'f6,Qg4,Qxg4', 'https://lichess.org/training/q8dYP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q8Evb', 'Rapid', 'bob1975', 2039, 'Roch_7220', 2055, 'd4,Nf6,e3,g6,c3,Bg7,Bd3,d5,Nd2,O-O,Qe2,Re8,f4,b6,Ngf3,c5,Ne5,Bb7,g4,Nfd7,g5,f6,Nxg6,hxg6,Bxg6,fxg5,fxg5,Nf8,Bxe8,Qxe8,Nf3,Nbd7,h4,Qh5,Ng1,Qxe2+,Nxe2,e5,Bd2,exd4,exd4,Re8,Kf2,Ba6,Rae1,Bxe2,Rxe2,Rxe2+,Kxe2,cxd4,cxd4,Ne6,Bc3,Nxd4+,Bxd4,Bxd4,b3,Be5,Rf1,Kg7,h5,a5,Rf5,b5,Kd3,Nc5+,Kc2,Nd7,Kd3,Nc5+,Ke3,d4+,Kd2,Bd6,Rd5,Bf4+,Ke2,Ne6,Rd7+,Kg8,g6,Be3,Kf3,a4,bxa4,bxa4,Re7,Nf4,Kg4,Nd5,Rb7,d3,Kf3', 'd2,Rb8+,Kg7,Ke2,Nc3+,Kxe3,d1=Q', 'https://lichess.org/training/q8Evb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q8FGQ', 'Classical', 'hudaibilgici', 1727, 'senolut', 1774, 'f4,Nf6,Nf3,c5,d4,cxd4,Qxd4,Nc6,Qd1,g6,g3,Bg7,Bg2,O-O,Bd2,d6,Bc3,Bg4,h3,Bxf3,Bxf3,d5,Bxf6,Bxf6,c3,d4,Bxc6,bxc6,cxd4,Bxd4,Nc3,Qb6,Rb1,Bf2+,Kf1,Bxg3,Ne4,Bxf4,h4,f5,Ng5,Rfd8,Qb3+,Qxb3,axb3,Rab8,Ne6,Rd2,Nxf4,Rxb3,Nd3,Kf7,Rh3,Kf6,Ke1,Rc2,Kd1,Rc4,Kd2,e5,Rh2,e4,Nf4', 'e3+,Kd1,Rxf4', 'https://lichess.org/training/q8FGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q8FJA', 'Bullet', 'Feschka', 1985, 'wasp1968', 1992, 'd4,g6,e4,Bg7,Be3,c5,Nf3,cxd4,Nxd4,Nc6,Bc4,Nf6,Nc3,d6,f3,O-O,Qd2,Re8,O-O-O,a6,Bh6,Bh8,h4,Ne5,Bb3,b5,Nd5,Bb7,g4,Nxd5,Bxd5,Bxd5,exd5,Nc4,Qf4,Qa5,Kb1,Qb4,Nb3,Bxb2,h5,Be5,Qe4,Qc3,Bc1,Rac8,Rd3,Na3+,Bxa3', 'Qxc2#', 'https://lichess.org/training/Q8FJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q8ISv', 'Rapid', 'Khakim1', 1936, 'tutamon', 1823, 'd4,d5,e3,e6,Nf3,c5,c4,dxc4,Bxc4,a6,O-O,cxd4,Nxd4,b5,Bb3,Bb7,Nd2,Nf6,N2f3,Bd6,h3,Nbd7,Bd2,Ne4,a3,O-O,Bc3,Nxc3,bxc3,Ne5,c4,bxc4,Nxe5,Bxe5,Bxc4,Bxd4,Qxd4,Qxd4,exd4,Rac8,Rac1,Rc6,Be2,Rfc8,Rxc6,Bxc6,Bxa6,Ra8,Rb1,g6,Rb6,Ba4,Kf1', 'Rxa6,Rxa6,Bb5+,Ke1,Bxa6', 'https://lichess.org/training/Q8ISv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q8iTE', 'Classical', 'sebasti97', 1634, 'newpthways', 1631, 'e4,Nc6,Nf3,e5,d4,exd4,Nxd4,Nb8,Nc3,Nf6,Bg5,Qe7,Qf3,Qb4,Bxf6,gxf6,Qxf6,Rg8,O-O-O,Bg7,Qg5,Qb6,Nf5,h6,Nxg7+,Kf8,Qd8+,Kxg7,Qe7,Qxf2,Bc4,Nc6,Rhf1', 'Qe3+,Kb1,Nxe7', 'https://lichess.org/training/Q8iTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q8lZf', 'Rapid', 'lucasribeiro', 2007, 'aleksandr21196103', 2029, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,d5,Be3,Bb4,Bb5,Bxc3+,bxc3,Bd7,exd5,exd5,O-O,Nf6,Bg5,O-O,Qf3', 'Nxd4,cxd4,Bxb5', 'https://lichess.org/training/q8lZf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q8oDt', 'Rapid', 'topstrika', 1862, 'JanTefa126', 1858, 'Nf3,g6,e4,Bg7,d4,d6,Nc3,Nf6,Bg5,O-O,Qd2,Re8,O-O-O,a6,Bh6,Bh8,h4,b5,e5,Nfd7,h5,Bb7,e6,fxe6,hxg6,hxg6,Qg5,Kf7,Qg3,Rg8,Ng5+,Ke8,Nxe6,Qc8,Bg7,Nf6,Bxf6,Bxf6,d5,c6,Ne4,Be5,Qg5,cxd5,Ng7+,Rxg7', 'Rh8+,Kd7,Rxc8', 'https://lichess.org/training/Q8oDt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q8oT0', 'Classical', 'nikolicmomir', 2040, 'Team-istanbul', 1933, 'd4,d5,c4,e5,e3,c6,Nc3,dxc4,Bxc4,exd4,Qf3,Nf6,Ne4,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/q8oT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q8pIp', 'Rapid', 'stefano8', 1989, 'KENNYMING', 2022, 'd4,Nf6,Bf4,e6,Nf3,c5,dxc5,Bxc5,e3,d5,Be2,Nc6,c3,Qb6,Qc2,Nh5,Bg3,Nf6,O-O,Ne4,Nbd2,f5,Ne5', 'Nxg3,hxg3,Nxe5', 'https://lichess.org/training/Q8pIp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q8TXD', 'Classical', 'popopax', 1665, 'urbestfriend7', 1633, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,h3,h5,Bc4,Qd4,Bxf7+,Kxf7,O-O,Ng4,Qf3+,Kg8,d3,Ne5,Qf4,Bxh3,gxh3,Rf8,Qe3,Nf3+,Kg2,Nh4+,Kg1,Qd7,Qg3,Nf3+,Kg2,h4,Qg4,Ne1+,Kg1,Bxf2+', 'Rxf2,Qxg4+,hxg4,Rxf2,Kxf2,Nxc2,Rb1', 'https://lichess.org/training/q8TXD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q91sY', 'Blitz', 'arabito', 2034, 'arturo35', 1996, 'e4,c5,Bc4,Nc6,c3,e6,d4,cxd4,cxd4,d5,exd5,exd5,Bd3,Nf6,Nf3,Be7,O-O,O-O,Nc3,Bg4,Be2,Bd6,h3,Be6,Ng5,h6,Nxe6,fxe6,Re1,Nh7,Bg4,Qf6,Bxe6+,Kh8,Re2,Rae8,Nxd5,Qg6,Bg4,Rxe2,Qxe2,Re8,Qd1,Qe4,Ne3,Nxd4,b3,Qe5,Bb2', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/q91sY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q957u', 'Rapid', 'Shanksponey', 1934, 'mfatarasty', 1875, 'e4,e5,Nf3,Bc5,c3,Nc6,Bb5,a6,Ba4,d6,h3,Ne7,O-O,O-O,d3,Ba7,Re1,b5,Bc2,Bb7,Nbd2,Ng6,Nf1,Nce7,Bg5,h6,Bh4,Nxh4,Nxh4,Ng6,Nf3,f5,exf5,Rxf5,d4,Bxf3,gxf3,Rg5+,Kh2,Nf4,Ng3,Rxg3,fxg3,Nh5,Qd3,Qf6,dxe5,dxe5,Qf5,Qd6,Rad1,Qc5,Re2,Nf6,Qxe5,Re8,Qxc5', 'Rxe2+,Kh1,Bxc5', 'https://lichess.org/training/Q957u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q97uH', 'Classical', 'AJGN', 2071, 'chaplainp', 2036, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Bf4,a6,e3,Nc6,Rc1,Bf5,Bd3,Bg6,Nf3,e6,Ne5,Nxe5,Bxe5,Be7,O-O,b5,f3,Bxd3,Qxd3,O-O,Rfd1,Qa5,b3,Nd7,Bg3,Rfc8,e4,Bb4,Be1,Bxc3,Bxc3,Qxa2,Bb4,Rxc1,Rxc1,a5,Bd6,a4,Qxb5,Qxb3,Qc6,Nb6', 'Qxa8+,Nxa8,Rc8#', 'https://lichess.org/training/q97uH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9Ack', 'Rapid', 'samirelshafie', 1834, 'Dimkabimka', 1641, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,e6,Nf3,Bd6,O-O,b6,a3,Bb7,d3,Nf6,h3,Nbd7,Bg5,h6,Bxf6,gxf6,Re1,Ne5,Nxe5,Bxe5,Ne4,Rg8,Rb1,f5,Ng3,Qd6,Qh5,Bxg3', 'Rxe6+,Qxe6,Bxe6', 'https://lichess.org/training/q9Ack');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q9bCC', 'Rapid', 'STINOL', 1666, 'bijan111', 1782, 'e4,e5,Nc3,Bc5,Nf3,d6,Nd5,h6,Bc4,a6,h3,c6,Nc3,Ba7,d4,Nf6,dxe5,Nxe4,exd6,Nxf2,Bxf7+,Kf8,Qd2,Nxh1,Qf4,Qf6,Qxf6,gxf6,Bh5,Kg7,Bf4,Bf5,O-O-O,Nd7,Rxh1,Rad8,g4,Bg6,Bxg6,Kxg6,Nh4+,Kf7,Nf5,Ne5,Nxh6+,Kg6,Nf5,Rhe8,a3,Rh8,Bxe5,fxe5,Ne4,Bb8,h4,c5,h5+,Kf7,g5,Ke6,Ng7+,Kd5,Nf6+,Kxd6,h6,Rdf8,c4,Bc7,Rd1+,Kc6,a4,Bd8,Rf1,Bxf6,Rxf6+,Rxf6,gxf6,Rxh6', 'f7,Rh8,Ne6', 'https://lichess.org/training/Q9bCC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9FTg', 'Rapid', 'Pioli', 1662, 'einar-t', 1670, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,O-O,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,Qf6,Bg5,Qe6,Re1,h6,Bf4,d6,Qxc3,Nf6,e5,Nd5,Qxc6+,bxc6,exd6,cxd6,Rxe6+,Bxe6,Bxd6,Kd7,Be5,Nf6,Nc3,Ke7,Rb1,Rhd8,h3,Kf7,a3,Nd5,Nxd5,cxd5,Rb7+,Rd7,Rb1,Rad8,Bc3,d4,Ne5+,Ke7,Nxd7,Rxd7,Bb4+,Kf6,Rd1,d3,f3,Bc4,Kf2,a6,Ke3,h5,Rc1,Bb5,Rc5,g6,h4,Ke6,g4,hxg4,fxg4,Rh7,Be1,Kf6,Bc3+,Ke6,Be1,Kd6,Rg5,Re7+,Kd2,Re6,h5', 'Re2+,Kd1,Ba4+,Kc1,Rxe1+', 'https://lichess.org/training/q9FTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q9FvX', 'Rapid', 'babaorum', 1752, 'Viktor798697', 1828, 'e4,e6,d4,d6,Nf3,h6,Bd3,a6,O-O,b6,e5,Nd7,exd6,Bxd6,Re1,g5,Nc3,Bb7,Ne5,Nxe5,dxe5,Bc5,Be4,Qxd1,Nxd1,Bxe4,Rxe4,Rd8,Be3,Bxe3,Nxe3,b5,f4,gxf4,Rxf4,Ne7,Rh4,Rd2,Rf1,Ng6,Rh3,Nxe5,Rd1,Rxd1+,Nxd1,c5,Ra3,b4,Rxa6,Ke7,Rb6,Nd7,Rb7,Ra8,a3,bxa3,bxa3,Rxa3,Kf2,Kd6,Ne3,f5', 'Nc4+,Kc6,Rxd7', 'https://lichess.org/training/Q9FvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9hpf', 'Rapid', 'Noblunder', 2139, 'safareax', 2246, 'd4,c5,e3,Nf6,Nf3,g6,d5,Bg7,c4,O-O,Nc3,e6,e4,exd5,cxd5,d6,Bd3,b5,O-O,c4,Bc2,Re8,Re1,b4,Nb5,Bg4,h3,Bxf3,Qxf3,Nxd5,Rd1,Nb6,Nxd6,Rf8,Nf5,N8d7,Nxg7,Kxg7,Bf4,Qf6,e5,Nxe5', 'Bh6+,Kxh6,Qxf6', 'https://lichess.org/training/q9hpf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9IIQ', 'Rapid', 'hunkarhan', 1633, 'DoppiaElle', 1606, 'e4,e5,Nf3,Nc6,Nc3,Bb4,Bc4,Nf6,d3,O-O,Bg5,Be7,O-O,Nh5,Bxe7,Qxe7,Nd5,Qd8,Nxe5,Nxe5,Qxh5,d6,Bb3', 'Bg4,Qxe5,dxe5', 'https://lichess.org/training/q9IIQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9LXe', 'Rapid', 'maxpopovski', 1667, 'Adrien-Folly', 1723, 'd4,Nf6,Bf4,g6,c4,Bg7,Nf3,d6,Nc3,O-O,e3,e5,dxe5,dxe5,Nxe5,Qxd1+,Rxd1,Be6,b3,Ng4,Nxg4', 'Bxc3+,Ke2,Bxg4+', 'https://lichess.org/training/q9LXe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q9M03', 'Rapid', 'cjg_000', 1631, 'Andrej24', 1700, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,dxc4,e4,b5,a4,b4,Na2,Nxe4,Nxb4,Qa5,Bd2,Nxd2,Qxd2,c5,Bxc4,cxb4,O-O,e6,Qf4,Be7,Ne5,O-O,b3,Bb7,Rad1,Bd6,Qg5,f6,Qh5,fxe5,dxe5,Bc5,Bxe6+,Kh8,Bf7,Qb6,e6,Nc6,Rd3,Ne7', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/Q9M03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9mka', 'Rapid', 'Engine-D', 1810, 'MAbhilash', 1892, 'Nc3,c6,e3,d5,d4,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Nf6,O-O,Bb4,a3,Bxc3,Qxc3,O-O,Qd3,h6,b4,Nbd7,c4,a5,Bb2,axb4,axb4,Rxa1,Bxa1,dxc4,Qxc4,Qb6,Nd2,Nd5,Bc3,Nxc3,Qxc3,Nf6,Nc4,Qb5,Rb1,Nd5,Qb3,Ra8,Nd6,Qxb4,Qxb4,Nxb4,Nxb7,Ra7,Nc5,Nd5,h3,Nc3,Rb3,Ra1+,Kh2,Nd1,Kg3,Ra2,f3,Re2,e4,Ne3,f4,Nxg2,Kf3,Rc2,Nd7,Nh4+,Kg4,Ng6,f5,exf5+,exf5,Rg2+,Kf3,Nh4+,Ke4,Re2+,Kd3,Rh2,Ke4,Rf2,Rb8+,Kh7,Ne5,Nxf5,Nxc6,Ng3+,Ke3,Rf6,Ne5,Nf5+,Ke4,Nd6+,Ke3,Re6,Kf4,f6,Nd7,Re4+,Kf3,Rxd4', 'Nf8+,Kg8,Ne6+,Kf7,Nxd4', 'https://lichess.org/training/q9mka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9ozb', 'Rapid', 'rajvardhan123', 1760, 'Arcywojak', 1730, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,e6,O-O,Be7,a3,O-O,d4,Nbd7,h3,a6,e5,dxe5,dxe5,Ne8,Bf4,b5,Bd3,Bb7,Bg3,Nb6,Be4,Qxd1,Raxd1,Bxe4,Nxe4,Nc7,Nd6,Rfd8,b3,f6,exf6,gxf6,Ne4,f5,Nc3,Ncd5,Ne2,Rac8,Be5,c4,b4,Kf7,c3,Bf6,Bd4,Bxd4,Nfxd4,Na4,Rc1,h6,Nf3,Kf6,Rfd1,Rd7,Rd4,Rcd8,Rh4,Rh8,g3,Rdh7,Kg2,h5,Nfd4,e5,Nf3,f4,Rd1,Naxc3,Nxc3,Nxc3,Rd6+,Kf5,Rxa6,fxg3,fxg3,Ne4,Rb6,c3,Rxb5,Rc7,Rxe5+,Kg6,Rexe4,c2,Ne5+,Kg7,Nd3,Rd8,Re3', 'Rxd3,Rxd3,c1=Q', 'https://lichess.org/training/q9ozb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9P2p', 'Rapid', 'Ruslan_Gorenko', 1954, 'MikZar', 1895, 'd4,e6,c4,Bb4+,Nc3,Ne7,Nf3,Ng6,e4,d6,Be2,Nd7,O-O,O-O,Qb3,Bxc3,bxc3,b6,a4,a5,Ba3,Nf4,Bd1,Re8,Qc2,Bb7,Re1,Qf6,Bc1,Ng6,Qb1,Ba6,Be2,c5', 'Bg5,Qd8,Bxd8', 'https://lichess.org/training/q9P2p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9PAK', 'Rapid', 'Cat63', 2303, 'mallem', 2118, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,b3,c6,Bb2,Nbd7,c4,Re8,Nc3,e5,dxe5,dxe5,Qc2,h6,Rfd1,Qe7,a4,Bf8,Ba3,Qe6,Bxf8,Kxf8,Rd2,e4,Nd4,Qe5,e3,Nc5,Rad1,a5,Nce2,Na6,Qb2,Nb4,Qa1,Kg7,Nc2,Qxa1,Rxa1,Bg4,h3,Bxe2,Rxe2,Nxc2,Rxc2,c5,Rd1,Red8,Rcd2,Rxd2,Rxd2,Ra6,Kf1,Rb6,Rb2,Kf8,Ke2,Ke7,Kd2,Ke6,Kc3,Ke5,Rd2,Re6,Rd8,Rd6,Rxd6,Kxd6,f3,Ke5,f4+,Kf5,g4+,Ke6,g5,hxg5,fxg5,Nh7,Bxe4,Nxg5,Bg2,b6,Kd3,Ke5,h4,Nh7,Bd5,f6,Ke2,Kf5,Kf3,g5', 'Be4+,Ke5,Bxh7', 'https://lichess.org/training/q9PAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9pBF', 'Rapid', 'Magic_julio', 1784, 'farhadyazdani', 1768, 'e4,e5,f3,Bd6,Nc3,b6,Nge2,Bb7,d4,Nf6,Bg5,h6,Bxf6,Qxf6,d5,c6,Qd2,O-O,O-O-O,a5', 'dxc6,dxc6,Qxd6,Qxd6,Rxd6', 'https://lichess.org/training/q9pBF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q9pvu', 'Rapid', 'mhmaguire', 1802, 'Occuria', 1849, 'Nf3,Nf6,b3,g6,Bb2,Bg7,d4,d5,Nbd2,O-O,g3,Nbd7,Bg2,c6,O-O,Re8,Re1,Qc7,Ne5,Nxe5,dxe5,Ng4,e4,Be6,exd5,Bxd5,Bxd5,cxd5,Qxg4,Rac8,c4,dxc4,Nxc4,b5,Nd2,Qc2,Rac1,Qxd2,Qe2,Qxe2,Rxe2,e6,Rd1,Red8,Bd4,Rd7,Red2,Rcd8,f4,h5,Kf2,Bf8,Ke2,a6,a4,Rd5,Ke3,Bb4,Rd3,bxa4,bxa4,a5,Ke4,Kf8,h3,Ke8,g4,hxg4,hxg4,Rc8,f5,gxf5+,gxf5,Rc4,fxe6,fxe6,Kf3,Bc5,Bxc5,Rcxc5,Rxd5,Rxd5,Rxd5,exd5,Ke3,Ke7,Kd3,Kd7,Kc3,Kc7,Kd4,Kc6,Ke3,Kc5,e6', 'Kd6,Kd4,Kxe6', 'https://lichess.org/training/Q9pvu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q9qvH', 'Classical', 'mnacer', 1686, 'bazri', 1743, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,O-O,O-O,d3,h6,Be3,Nd4,Nxe5,d6,Nf3,Nxf3+,Qxf3,Bxe3,Qxe3,c6,Rad1,Ng4,Qe2,Ne5,Bb3,Bg4,f3,Bh5,d4,Ng6,Qf2,Nf4,Rfe1,Kh8,Ne2,Ne6,c3,Qg5,Bc2,Rae8,Ng3,Bg6,b4,Nf4,Ne2', 'Nh3+,Kf1,Nxf2', 'https://lichess.org/training/Q9qvH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9Rsx', 'Blitz', 'NM Quarantinemachine', 2392, 'armtwister', 2350, 'e4,e6,d4,d5,Bd3,Nf6,e5,Nfd7,Nf3,f5,c3,c5,Ng5,Nb6,a4,cxd4,a5,Nc4,cxd4,Be7,b3,Bxg5', 'Qh5+,g6,Qxg5,Qxg5,Bxg5', 'https://lichess.org/training/q9Rsx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9tjB', 'Rapid', 'trickofthetail', 1815, 'emilnedisan', 1740, 'e4,e5,Bc4,g6,Nc3,c6,Nf3,Bg7,h3,Ne7,d3,d5,exd5,cxd5,Bb3,O-O,O-O,d4,Ne4,b6,Nfg5,Bb7,f4,Nd5,fxe5,Bxe5,Qg4,h5,Qf3,Qe7,Qf2,Kg7,Nf3,f5,Bg5,Bf6,Bxd5,Bxd5,Bxf6+,Rxf6,Nxf6,Qxf6,Qxd4,Qxd4+,Nxd4,Nd7,Rfe1,Kf6,Nb5,Rc8,Nd6,Rxc2,b3,Ne5,Rac1', 'Rxg2+,Kf1,Nxd3', 'https://lichess.org/training/q9tjB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('q9Ue1', 'Rapid', 'Szachy05', 2146, 'gyyan', 2016, 'e4,c6,d4,d5,e5,Bf5,h4,c5,g4,Bd7,c3,cxd4,cxd4,Qb6,Nc3,e6,Nf3,a6,a3,Nc6,Qc2,Rc8,Be3,Na5,Bd3,Nc4,Bxc4,Rxc4,O-O,f6,Rad1,Ba4', 'Nxa4,Rxc2,Nxb6', 'https://lichess.org/training/q9Ue1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q9UhE', 'Rapid', 'bistrot', 2038, 'manuelben', 2008, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,Bd7,Qd2,Nc6,Bc4,Ne5,Bb3,h5,h4,Rc8,O-O-O,Nc4,Bxc4,Rxc4,Kb1,a6,Nd5,Nxd5,exd5,Qb6,c3,Qa5,Nb3,Bf5+,Ka1', 'Qxa2+,Kxa2,Ra4#', 'https://lichess.org/training/Q9UhE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q9uYK', 'Blitz', 'FM Rozzan', 2451, 'africanmorphy', 2368, 'Nf3,d5,d4,Nc6,c4,e5,cxd5,Qxd5,Nc3,Bb4,dxe5,Qxd1+,Kxd1,Bf5,e4,O-O-O+,Kc2,Bxc3,exf5,Bxe5,Nxe5,Nxe5,Bf4,f6,Re1,Re8,Bc4,g5,Bg3,Nh6,Be6+,Kb8,Bxe5,fxe5,Rxe5,Nxf5,Kc3,Rhf8', 'Rxf5,Rxf5,Bxf5', 'https://lichess.org/training/Q9uYK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q9V7Y', 'Classical', 'kaplannnn', 1869, 'seddiki', 1884, 'e4,e5,Nf3,d6,d4,Bg4,Bc4,Bxf3,Qxf3,Qd7,O-O,Nf6,dxe5,dxe5,Rd1,Bd6,Nc3,a6,Bg5,Nc6,Bxf6,gxf6,Qxf6,Rg8,Nd5,Nd4,Qh4', 'Nf3+,Kh1,Nxh4', 'https://lichess.org/training/Q9V7Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Q9Z51', 'Rapid', 'Chopist01', 1963, 'Yurko_56', 2001, 'e4,e6,d4,c5,d5,e5,d6,Qb6,Qd5,Qxd6,Qxd6,Bxd6,Nf3,Nf6,Nc3,a6,Bg5,Nc6,O-O-O,Nd4,Ne2,Nxe4,Bh4,Bc7,c3,Nxf3,gxf3,Nd6,f4,e4,Bg2,f5,Ng3,O-O,f3,e3,Rde1,Re8,Bh3,g6,Rhg1,Nc4,b3,Nd2,Nh5,Nxf3,Nf6+,Kf7,Nxe8,Kxe8', 'Rxe3+,Kf7,Rxf3', 'https://lichess.org/training/Q9Z51');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qa0Kl', 'Classical', 'sco_habib', 1879, 'donthya2014', 1865, 'e4,c6,d4,d5,exd5,Bf5,dxc6,Nxc6,Nf3,e6,Bb5,Bb4+,c3,Bd6,O-O,Ne7,Nbd2,a6,Ba4,O-O,Bb3,Rc8,Nc4,Bb8,Bg5,Qc7,Nfe5,f6,Bf4,fxe5,dxe5,Ng6,Bg3,Rfd8,Qh5,Nce7,Ne3,Rf8,Rfe1,Qc6,Nxf5,Rxf5,Qg4,h5,Qh3,Ba7,Kh1,Rcf8,f4,Nxf4,Bxf4,Rxf4,Bxe6+,R8f7,Rad1,Bb6,Rd6,Qb5,g3,Rg4,Qxh5,g6,Qxg4,Kg7,Bxf7,Kxf7,Qe6+,Ke8,Red1,Qe2,Qd7+,Kf8,Rf6+,Kg7,Qxe7+,Kh6,Qf8+,Kg5,Qd6', 'Qe4+,Rf3,Qxf3#', 'https://lichess.org/training/qa0Kl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qA4N3', 'Rapid', 'Ahmed_helal13265', 1959, 'Feisty2021', 2031, 'f4,e6,d4,d5,e3,h5,Nf3,Be7,c3,Bh4+,g3,Be7,Bd3,c5,Nbd2,c4,Bc2,h4,g4,Nf6,Ne5,Nc6,g5,Nh5,Qg4,Qc7,Ndf3,Bd7,Bd2,O-O-O,Nxf7,e5,Qg2,h3,Qf2,e4,N3e5,Nxe5,dxe5,Rdf8,Nxh8,Rxh8,O-O-O,g6,Kb1,Qb6,Bc1,Rf8,Rhg1,Rxf4,exf4,Qxf2,Rdf1,Qb6,Bd1,Ng7,Be2,Nf5,Rd1,Ne3,Bxe3,Qxe3,Rge1,Be6,Bxc4,Qxf4,Bxd5,Bf5,Rf1,e3+,Ka1,e2,Rxf4', 'exd1=Q#', 'https://lichess.org/training/qA4N3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qaaG6', 'Blitz', 'ajlovchess', 1533, 'harpov81', 1521, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Bc4,Qf6,Nxc3,Ne5,Nxe5,Qxe5,Qf3,Nf6,Bf4,Qc5,Bb3,d6,O-O,Be6,Rac1,Bxb3,axb3,Qb4,Rfe1,O-O-O,e5,dxe5,Bxe5,Bd6,Bxf6,gxf6,Qxf6,Qxb3,Re2,Rhg8,Ne4,Rg6', 'Nxd6+,Rxd6,Re8+,Kd7,Rd8#', 'https://lichess.org/training/qaaG6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QabJs', 'Blitz', 'sergio07rus', 1593, 'SouthA', 1635, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bb4,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qb6,Na4,Qb5,c3,Be7,Nd4,Qe5,d3,Bg4,f3,Bh5,O-O,O-O-O,Be3,Kb8,Nf5,g5,Nxe7,Qxe7,Bxg5,Rhg8,Bh4,Qe6,Nc5,Qd6,d4,b6,Na6+,Kb7,Nb4,Rg6,e5,Qe6,Bxf6,Rdg8,Rf2,a5,Nd3,Qf5,Qd2,Bxf3,g3,Rxg3+,hxg3,Rxg3+,Kf1,Qh3+,Ke1', 'Rg1+,Rf1,Qxf1#', 'https://lichess.org/training/QabJs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qAbyJ', 'Rapid', 'naffies', 1714, 'Ruozversa', 1719, 'c4,e5,Nc3,Nc6,d3,Bb4,Nf3,Nf6,g3,h6,Bg2,O-O,O-O,Bxc3,bxc3,d6,Re1,e4,Nd2,e3,fxe3,Ng4,Nf3,Qe7,e4,a6,Nd4,Nxd4,cxd4,Qf6,Bb2', 'Qf2+,Kh1,Ne3', 'https://lichess.org/training/qAbyJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QABYx', 'Rapid', 'Alexxadrez32', 1728, 'Noob94', 1760, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,h6,Na4,Bb6,Nxb6,axb6,O-O,d6,h3,Nf6,d3,O-O,a3,Qe7,Be3,Be6,Bxe6,Qxe6,Nd2,d5,f4,exf4,Bxf4,dxe4,Nxe4,Nxe4,dxe4,Rad8,Qf3,Rd7,Qg3,Nd4,Rf2,b5,c3,Nb3,Re1,Nc5,Rfe2,Re8,Rf1,Nxe4,Qf3,Qc6,Rfe1,Rde7,Qg4,Nf6,Rxe7,Nxg4', 'Rxe8+,Kh7,hxg4', 'https://lichess.org/training/QABYx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QADB4', 'Rapid', 'napiher', 1802, 'Alpha321', 1738, 'c4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,g3,d5,Bg2,Be6,Qa4,Qd7,O-O,O-O,Rd1,Rfd8,Bg5,Ng4,e3,f6,Bf4,Ne5,Bxe5,fxe5,Ne4,Be7,Nc3,Bf6,Nxd5', 'cxd5,Qxd7,Rxd7', 'https://lichess.org/training/QADB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qae8S', 'Rapid', 'chandansbt', 1651, 'Nitzs', 1693, 'e4,e5,Nf3,d6,h3,a6,d4,Nc6,dxe5,Be6,exd6,Bxd6,Ng5,Nf6,Nxe6,fxe6,Bc4,Qe7,Bg5,Be5,c3,O-O,O-O,Rad8,Qe2,h6,f4,hxg5,fxe5,Nxe5,Nd2,Qc5+,Kh1,Rxd2', 'Bxe6+,Kh7,Qxd2', 'https://lichess.org/training/Qae8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QAeOT', 'Rapid', 'YakovSN', 1866, 'M-bor', 1940, 'Nf3,e6,c4,c5,e3,Nf6,Nc3,Be7,b3,O-O,Bb2,a6,Qc2,Nc6,Ng5,h6,h4,e5,Nd5,g6,Nxf6+,Bxf6,Nxf7,Kxf7,Bd3,Rg8,h5,Kf8,Bxg6,Nb4,Qf5,d5,Qf3,e4', 'Qxf6+,Qxf6,Bxf6', 'https://lichess.org/training/QAeOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QAEU8', 'Rapid', 'berzahemir', 1779, 'carterwatwr', 1749, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,Nc6,Bb5,Bd7,O-O,Be7,Nd5,a6,Bxc6,Bxc6,Nxe7,Qxe7,d3,O-O,b3,b5,Bb2,Bb7,Re1,Rfe8,Qd2,Rad8,Rad1,Qd7,Nh4,Qc6,Nf5,d5,f3,dxe4,fxe4,Nxe4,Ne7+,Rxe7,Rxe4,Qc5+,Kh1,Bxe4,d4,exd4,Bxd4,Qc6,Kg1,Red7,Qg5,Rxd4', 'Qxd8+,Rxd8,Rxd8+,Qe8,Rxe8#', 'https://lichess.org/training/QAEU8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QaEWO', 'Rapid', 'zima1947', 1846, 'Knoddel', 1785, 'd4,d5,c4,c6,Nc3,e6,a4,Nf6,Nf3,Nbd7,Bg5,Bd6,e3,e5,dxe5,Nxe5,cxd5,Bg4,Be2,h6,Bf4,Nxf3+,gxf3,Bh5,Bg3,Nxd5,Nxd5,cxd5,Bb5+,Kf8,O-O,Be7,Kg2,a6,Be2,f6,Qd4,Bf7,Rfd1,Rc8,Rac1,Rxc1,Rxc1,Be6,Rc7,Bd6,Rxb7,Qc8,Qa7', 'Bh3+,Kg1,Qc1+,Bf1,Qxf1#', 'https://lichess.org/training/QaEWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qafbg', 'Classical', 'anand1973', 1687, 'manocoisa', 1662, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,d6,h3,Nf6,d3,Na5,Bb3,Nxb3,Qxb3,Be6,Qc2,h6,O-O,O-O,Re1,d5,exd5,Bxd5,Nxe5,Bd6,d4,Re8,Bf4,Rc8,Nd2,c5,Qd3,Nh5,Bh2,cxd4,cxd4,Bxe5,Bxe5,Nf6,Bxf6,Qxf6,Rxe8+,Rxe8,Kf1,Rd8,b3,Bc6,Re1,a6,Nf3', 'Bb5,Qxb5,axb5', 'https://lichess.org/training/Qafbg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qaG2s', 'Rapid', 'Gelsonkestering', 1843, 'CHAPARRAU', 1873, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Bd3,O-O,Qe2,b5,h4,b4,Nd1,Bb7,h5,h6,Bh4,Qb6,Bf2,Qc7,g4,Nh7,Rg1,e5,Nf5,Bf6,g5,hxg5,fxg5,Bxg5,h6,g6,Be3,Bxe3,Qxe3,Nd7,Bc4,Ndf6,Rxg6+,Kh8,Rg7,Bxe4,Qg3,Qxc4', 'Rxh7+,Nxh7,Qg7#', 'https://lichess.org/training/qaG2s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qAgNU', 'Rapid', 'chessplayer-2000', 1700, 'onesmo', 1692, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bc5,d3,O-O,Bg5,Be7,h3,Nh5,Qd2,f6,Be3,f5,exf5,Rxf5,g4,Rxf3,gxh5,d5,Nxd5,Rxh3,O-O-O,Rxh1,Rxh1,Be6,Nxe7+,Nxe7,Bc4,Bxc4,dxc4,Qxd2+,Bxd2,Nf5,Bc3,e4,Rg1,Re8,Rg5,g6,hxg6,hxg6,Rxg6+,Kh7,Rf6,Nh4,Bd2,Ng2,Rf7+,Kg6,Rxc7,e3,fxe3,Rf8,b3,Rf1+,Kb2,Rf2,Bc3,Nxe3,Rg7+,Kh6,Bd4,Rxc2+,Ka3,Nf5,Rd7,b6,Be5,a5,Rb7,Re2,Bf4+,Kh5,Rxb6,Kg4,Bb8,a4,c5,Nd4,Rb4,Re4,c6', 'Nc2+,Kb2,Nxb4', 'https://lichess.org/training/qAgNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qakIP', 'Rapid', 'baylak_8', 1849, 'krds1677', 1831, 'e4,e5,Nf3,d5,exd5,e4,Nd4,Qxd5,c3,Nf6,Be2,c5,Nb3,Bd6,O-O,O-O,d3,Qe5,g3,Bh3,Re1,Nc6,dxe4,Rad8,Bf4,Qe7,Bxd6,Rxd6,Qc2,Rfd8,Bf3,c4,Nc5,Qe5,Nxb7,Rd3,Nxd8,Rxd8,Na3,Rd3,Bh1,Qc5,Rad1,Ne5,Rxd3,Nxd3,Re3,Nxf2,Qxf2,Ng4,Qf4,Qxe3+,Qxe3,Nxe3,Kf2,Ng4+,Ke2,Nxh2,Nxc4', 'Bf1+,Ke3,Bxc4', 'https://lichess.org/training/qakIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QAkQI', 'Blitz', 'kudrya53', 2090, 'WIM OlgaGut', 2359, 'Nf3,d5,d4,Nf6,c4,dxc4,Nc3,a6,a4,Nc6,e3,Na5,Ne5,Be6,Qf3,c6,Be2,g6,O-O,Bg7,Rd1,O-O,h3,Nd5,e4,Nxc3,bxc3,Qc7,Bf4,Bxe5,Bxe5,Qd7,d5,cxd5,exd5,Bf5,g4,Bc2,Rd4,f6,Bf4,Nb3,Rc1,Nxd4,cxd4,Qxa4,Bh6,Rf7,d6,exd6,Qd5,Re8', 'Bxc4,Qd7,Rxc2', 'https://lichess.org/training/QAkQI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QAlhT', 'Classical', 'baghelsagar', 1981, 'digupagal', 1817, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bd3,Bxd3,Qxd3,Ngf6,O-O,e6,Bg5,Be7,Rad1,O-O,c3,Qc7,Ne5,Rfe8,Nxd7,Nxd7,Bxe7,Rxe7,Ne4,Qf4,Rfe1,e5,Ng3,Rae8,Re4,Qg5,Rde1,exd4,Qxd4,h6,Rxe7,Rxe7,Rxe7,Qxe7,Kf1,b6', 'Nf5,Qg5,Qxd7,Qc1+,Ke2', 'https://lichess.org/training/QAlhT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qalya', 'Classical', 'Matamor', 1939, 'KaladinKingkiller', 2125, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Re1,g6,c3,Bg7,d4,O-O,d5,Qb6,c4,Rac8,Qb3,a5,Qxb6,Nxb6,b3,a4,Bb2,axb3,axb3,Ra8,Nbd2,Nfd7,Bxg7,Kxg7,Nf1,Rxa1,Rxa1,Ra8,Rxa8,Nxa8,Ne3,b5,Ng4,bxc4,bxc4,Nf6,Nxf6,Kxf6,Kf1,Nb6,Nd2,Ke5,Ke2,Kd4,Nf3+,Kxe4,Ng5+,Kd4,Nxh7,Nxc4,Ng5,Ne5,f4,f6,fxe5', 'fxg5,exd6,exd6', 'https://lichess.org/training/qalya');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QAMvB', 'Classical', 'Zulfiqarchoudhry', 1999, 'shahalamchaudhry', 1890, 'd4,d5,e4,Nc6,Nc3,dxe4,d5,Nb4,a3,Na6,Nxe4,e6,c4,exd5,Qxd5,Qxd5,cxd5,Bd7,Nf3,Bc5', 'Bxa6,bxa6,Nxc5', 'https://lichess.org/training/QAMvB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QamWo', 'Classical', 'charlin1805', 2045, 'Normalista', 2082, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,Qe7,Qxe4,d6,d4,Nc6,Bb5,Bd7,O-O,Nxe5,Bxd7+,Nxd7,Qxb7,Qd8,Re1+,Be7,Qe4,Nf6,Qe2,Qd7,Bg5,Kf8,Nc3,Re8,Ne4', 'Nxe4,Bxe7+,Rxe7', 'https://lichess.org/training/QamWo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qaNIb', 'Rapid', 'gubaalexey', 1684, 'nobbyfru', 1657, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,O-O,O-O,d4,exd4,Nxd4,d6,Nxc6,bxc6,a3,Be6,Bxe6,fxe6,Qf3,e5,Qg3,Nh5,Qg4,Nf4,g3,Ng6,h4,Bf6,f4,exf4,Bxf4,Nxf4,Rxf4,Be5,Rxf8+,Qxf8,Rf1,Qe7,Qf3,Rf8,Qd3,Rxf1+,Kxf1,Qf6+,Kg2,Bxc3,bxc3,Qe6,c4,h6,c3,Kf7,Qd4,c5,Qd5,c6,Qxe6+,Kxe6,Kf3,Ke5,g4,d5,cxd5', 'cxd5,exd5,Kxd5,Ke3,Kc4', 'https://lichess.org/training/qaNIb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qao1U', 'Rapid', 'MFK91', 2256, 'Hendrik-Haselnuss', 2041, 'e4,c5,Nc3,e6,Nf3,Nc6,Bb5,Nge7,O-O,a6,Bxc6,Nxc6,d3,Be7,Re1,O-O,e5,d5,exd6,Bxd6,Bg5,Qc7,Ne4,Be7,Qd2,b6,Rad1,Bb7,Bxe7,Qxe7,a3,Rad8,Qf4,h6,h3,Nd4,Nxd4,Rxd4,c3,Rd7,Ng3,Rfd8,Re3,Qd6,Qh4,Qd5,f3,a5,Ne2,Ba6,d4,Qb3,Rd2,Bxe2,Rexe2,Qc4,Re4,f5,Re1,cxd4,cxd4,Rxd4,Qxd8+,Rxd8,Rxd8+,Kf7,Rd2,Qc5+,Kh1,Qb5,Rde2,Qd5,Kg1,b5,Kf1,a4,Re5,Qc4+,R1e2,Kf6,Kf2', 'Qd4+,Kf1,Qxe5,Rxe5,Kxe5', 'https://lichess.org/training/Qao1U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qaoZ5', 'Rapid', 'Funtrain', 2200, 'ConwyCastle', 2199, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nf3,Be7,Bg5,Be6,Bxf6,Bxf6,O-O,O-O,Nd5,Nd7,Nxf6+,Nxf6,Bd3,d5,Qe2,dxe4,Bxe4,Nxe4,Qxe4,Bd5,Qxe5,Bxf3,gxf3,Re8,Qf4,Re6,Rfd1,Qb6,Qd4', 'Re1+,Rxe1,Qxd4', 'https://lichess.org/training/qaoZ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QAq5D', 'Blitz', 'bringhenti', 2044, 'dollypizu', 2069, 'f4,Nf6,Nf3,d6,e3,e5,fxe5,dxe5,b3,Bg4,Be2,e4,Ne5,Bxe2,Qxe2,Bd6,Bb2,O-O,O-O,c6,d4,exd3,Nxd3,Be7,e4,Re8,e5,Nd5,e6,f6,Qh5,Na6,Nc3,Bc5+,Nxc5,Nxc5,Nxd5,Qxd5,Qf7+,Kh8,Rxf6,Nxe6,Rxe6,Rg8,Rae1,Qc5+,Kh1,Qxc2,Bxg7+,Rxg7', 'Re8+,Rxe8,Rxe8+,Rg8,Rxg8#', 'https://lichess.org/training/QAq5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qaqpc', 'Bullet', 'LM Rochade_Augsburg', 2167, 'jandrieu', 1721, 'Nf3,c5,g3,e6,Bg2,d5,O-O,Nf6,c4,Nc6,d4,Bd7,Nc3,Be7,cxd5,exd5,dxc5,Be6,Bg5,d4,Bxf6,Bxf6,Ne4,Be7,a3,O-O,b4,h6,Rc1,Bf5,Ned2,Bf6,Nb3,Re8,Qd2,Bg4,h3,Bxf3,Bxf3,Bg5,Qc2,Bxc1,Rxc1,Qf6,Rd1,Rad8,h4,Re7,Kg2,Ne5,Qe4,Nxf3,Qxf3,Qxf3+,Kxf3,Red7,Rd3,f5,Kf4,g6,h5,Kg7,hxg6,Kxg6,b5,Rd5,a4,Re8,Kf3,Red8,Kf4,Re8,Rxd4', 'Rxd4+,Nxd4,Re4+,Kf3,Rxd4', 'https://lichess.org/training/qaqpc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QaR1r', 'Rapid', 'anmolm', 1602, 'LaMarmota', 1971, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,Nf6,Bc4,Bc5,Nf3,d6,O-O,h6,h3,O-O,Nc3,Be6,Bd3,a6,a3,Qd7,Re1,Rad8,e5,dxe5,Nxe5,Qd4,Qf3,Nxe5,Rxe5,Qxe5,Bf4,Qd4,Rd1,Kh8,Bxc7,Rc8,Bf4,Nd5,Ne2,Qxb2,Qe4,g6', 'Be5+,Qxe5,Qxe5+', 'https://lichess.org/training/QaR1r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qaR5a', 'Rapid', 'oti77', 1968, 'anselmberde', 1977, 'e4,c5,b3,d6,Bb2,e6,d3,Nf6,e5,dxe5,Bxe5,Bd6,Bb2,O-O,Nf3,Nc6,Be2,b6,O-O,Bb7,Nbd2,Nd5,g3,f5,c4,Nf6,Qe1,e5,Ng5,e4,Ne6,Qc7,Nxc7,Bxc7,dxe4,Nxe4,Nxe4,fxe4,Bg4,Nd4,Bxd4,cxd4,Rd1,Be5,f4,Bd6,Rxd4,Bc5,Qd2,Rad8,Be6+,Kh8,Bd5,Bxd5,cxd5,Rxd5,Kg2,Rxd4,Qc2,Rfd8,Rf2', 'e3,Re2,Rd2,Qc4,Rxe2+,Qxe2,Rd2,Kf1,Rxe2', 'https://lichess.org/training/qaR5a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qAr9d', 'Blitz', 'Schapsiblepko', 1727, 'vesela', 1730, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,c5,Bg5,f6,exf6,Nxf6,Ne5,cxd4,Nb5,Bd7,Bxf6,gxf6', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/qAr9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qAsiw', 'Blitz', 'rezzosax', 1618, 'SGMWilmyr41', 1592, 'e4,c5,Nf3,d6,Bb5+,Nc6,Bxc6+,bxc6,Nc3,Nf6,Qe2,g6,d4,Bg7,dxc5,O-O,cxd6,exd6,Bf4,Bg4,Rd1,d5,O-O,Qa5,exd5,cxd5,h3,Bxf3,Qxf3,Ne4,Nxe4,dxe4,Qxe4,Qxa2,Be5,Rae8,Rd5,f6,Rd7,Rxe5,Qb7,Bh6,Rxh7,Rh5,Re1,Qd5', 'Qxd5+,Rxd5,Rxh6,Kg7,Rh4', 'https://lichess.org/training/qAsiw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QAt7C', 'Blitz', 'FM RobPeresian', 2439, 'FM WhiteBishop4761', 2556, 'Nf3,d5,d4,Nf6,c4,e6,Nc3,Bb4,cxd5,exd5,Bg5,Qd6,e3,Ne4,Qb3,c5,dxc5,Nxc5,Qc2,Ne4,Bf4,Qf6,Be5,Qg6,Bxb8,Rxb8', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/QAt7C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QAT9c', 'Blitz', 'Najdork', 1918, 'TiNours', 1900, 'e4,e6,d4,d5,Nc3,Nf6,exd5,exd5,Bd3,Bd6,Nge2,Bg4,f3,Bh5,Bg5,c6,Qd2,Nbd7,O-O-O,Qc7,Nf4,Bg6,Nce2,O-O,h4,Bxd3,Nxd3,c5,dxc5,Nxc5,Bxf6,gxf6,Kb1,Na4,Qh6,Rac8,Nd4,Be5,Nf5', 'Qxc2+,Ka1,Bxb2+,Nxb2,Qxb2#', 'https://lichess.org/training/QAT9c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qATmd', 'Blitz', 'CM Nersisyan_Garnik', 2314, 'FM Lioni26', 2551, 'e4,c5,Nc3,Nc6,d3,g6,g3,Bg7,Bg2,d6,Be3,Nf6,Qd2,Ng4,Bg5,h6,Bf4,e5,Be3,Nxe3,fxe3,O-O,Nd5,f5,exf5,gxf5,Ne2,Be6,O-O,Ne7,Nec3,Kh7,Nxe7,Qxe7,Nd5,Qf7,c4,Rae8,e4,f4,gxf4,Bxd5,fxe5,Qg6,exd5,Kh8,Rxf8+,Rxf8,exd6', 'Bd4+,Kh1,Rf2,Qxf2,Bxf2', 'https://lichess.org/training/qATmd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QaUC6', 'Rapid', 'derma777', 1746, 'Sasha1000028', 1739, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nc3,e6,Bf4,a6,a4,Nc6,a5,Nd7,d5,exd5,exd5,Ne7,Bc4,Nf6,Nf3,g6,O-O,Bg7,Re1,O-O,Bxc7', 'Qxc7,d6,Qxc4,dxe7,Re8', 'https://lichess.org/training/QaUC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QAUUD', 'Rapid', 'zorfo08', 1708, 'KozakMukola', 1725, 'd4,Nf6,e3,g6,c4,Bg7,Nc3,d6,Nf3,Nbd7,Bd3,c6,O-O,b6,Bd2,Bb7,Rc1,e6,e4,a5,e5,dxe5,dxe5,Ng4,Ne4,Ngxe5,Nd6+,Ke7,Nxb7,Qc7,Nxa5,bxa5,Bf4,Qb7,Nxe5,Nxe5,b3,Rad8,Rc3,Ng4,Qxg4,Bxc3,Be4,f5,Qg5+,Bf6,Bxc6,Bxg5', 'Bxg5+,Kf7,Bxb7', 'https://lichess.org/training/QAUUD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qaVdJ', 'Rapid', 'dragon1262', 1874, 'hankg', 1875, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,e5,d5,Ne8,Qd2,f5,exf5,gxf5,Bh6', 'Qh4+,g3,Qxh6,Qxh6,Bxh6', 'https://lichess.org/training/qaVdJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qAWCr', 'Blitz', 'casilladebil1991', 2343, 'NM TheLlamaLord', 2417, 'g3,Nf6,Bg2,d5,Nh3,c5,f3,Nc6,Nf2,e5,O-O,Be7,d3,O-O,e4,d4,a4,a6,Nd2,Be6,Nc4,Ne8,Bd2,b5,axb5,axb5,Rxa8,Qxa8,Nb6,Qb7,Nd5,Bd8,f4,f6,fxe5,fxe5,Bh3,Bxh3,Nxh3,Rxf1+,Qxf1,Nd6,Bg5,c4,Bxd8,Nxd8,Ng5,h6,Nf3,Nc6,Qh3,Qf7,Kg2,b4,b3,c3,Qg4,h5,Qg5,Nxe4,dxe4,d3,cxd3,c2,Qc1,h4,Qxc2,Qxf3+,Kxf3,Nd4+,Kg4,Nxc2,Kxh4,Nd4,Nxb4,Nxb3,Kg5,Nd4,g4,Nf3+,Kf5,Kf7,h3', 'g6#', 'https://lichess.org/training/qAWCr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QaX7B', 'Rapid', 'FangFastFirst', 2072, 'Skodarapid', 2024, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nc4,Nd4,Nd5,O-O,c3,b5,Nxf6+,Qxf6,cxd4,bxc4,dxe5,Qxe5,Be2,Qxe4,O-O,Bb7,Bf3,Qe7,Re1,Qc7,Rc1,Bxf3,Qxf3,Rfd8,b3,d5,h4,Rac8,Rc3,Qa5,Re7,Rf8,bxc4,dxc4,Re4,Qxa2,Qf4,Qa1+,Rc1,Qb2,Rexc4,Ra8,h5,h6,R1c3,a5,Rg3,Qb1+,Kh2,Kh7,Qe5,f6,Qc7,Rg8,Rcg4,Qb8', 'Rxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/QaX7B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QaXBW', 'Rapid', 'LaMelancoliaAsesina', 1652, 'mortza', 1660, 'd4,d5,Nf3,c5,Bf4,e6,c3,Nc6,e3,Bd6,Bg3,Bxg3,hxg3,h6,Nbd2,Nf6,Bd3,c4,Bc2,a6,a4,Bd7,e4,b5,e5,Ne4,Nxe4,dxe4,Bxe4,Rb8,d5,exd5,Bxd5,bxa4,Bxc6,Bxc6,Qxd8+,Rxd8,Nd4,Bxg2,Rh4,O-O,Rxa4,Rfe8,f4,Bd5,Rxa6,Rb8,Ra2,Ra8,Rxa8,Rxa8,Kd2,Ra2,Kc1,Ra1+,Kd2,Rb1,f5,Rxb2+,Ke3,Rg2,Rg4,Rg1,Kf2,Rc1,e6,fxe6,fxe6,Rxc3,e7,Kf7,Nf5,Ke8,Rxg7', 'Rf3+,Ke2,Rxf5', 'https://lichess.org/training/QaXBW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qAxte', 'Rapid', 'chluke', 1810, 'sadeq1972', 1879, 'e4,e6,d4,d5,e5,a6,Nf3,c5,c3,Ne7,Bg5,Nbc6,Be2,g6,Bf6,Rg8,Ng5,Bg7,Nxh7,cxd4,cxd4,Qb6,Qd2,Nxd4,Nc3,Bd7,O-O,Nxe2+,Qxe2,Nf5,Bxg7,Rxg7,Nf6+,Ke7,Nxd7,Kxd7,Na4,Qb5', 'Qxb5+,axb5,Nb6+,Kc7,Nxa8+', 'https://lichess.org/training/qAxte');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QAXYf', 'Classical', 'unbeatableboss', 1685, 'sooryaskc', 1858, 'd4,Nf6,Nf3,d5,e3,Bf5,c4,e6,Nc3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,Nc6,cxd5,exd5,Be2,a6,O-O,Qe7,Bd3,Ne4,Qc2,Bg6,Nd2,Nxc3,bxc3,Bxd3,Qxd3,b6,c4,dxc4,Qxc4,Na5,Qc3,Rac8,Nb3,Nxb3,Qxb3,Qd6,Rac1,c5,dxc5,Rxc5,Rfd1,Rxc1,Rxc1,Rd8,g3,b5,Qc3,g6,Qc7,Qxc7,Rxc7,Rd6,Ra7,Kg7,Kg2,Kf6,Kf3,h5,h4,Kf5,Rxf7+,Ke6,Ra7,Kf6,e4,Rd3+,Ke2,Rxa3,Ra8,a5,Rb8,b4,Rb5,Ra2+,Kf3,Ra3+,Kf4,b3,e5+,Ke6,f3', 'Ra4+,Kg5,Rb4,Rxa5,b2', 'https://lichess.org/training/QAXYf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QaYDP', 'Classical', 'Cassian', 1904, 'Jullianrys72', 1881, 'f4,d5,Nf3,e6,e3,f5,d4,Nf6,Bd3,c5,c3,c4,Bc2,Bd6,O-O,O-O,a4,Bd7,b3,cxb3,Bxb3,Nc6,c4,Na5,cxd5,Nxb3,Qxb3,exd5,Ne5,Bc6,Nc3,Bxe5,fxe5,Ne4,Ba3,Rf7,Nxe4,dxe4,Rxf5', 'Bd5,Rxf7,Bxb3', 'https://lichess.org/training/QaYDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qAzix', 'Rapid', 'Devonjai', 1730, 'ronin05', 1661, 'e4,e6,Nf3,b6,Nc3,Bb7,d4,Nc6,Bc4,g6,Bg5,Be7,Bxe7,Qxe7,O-O,Nf6,Re1,d5,exd5,Nd8,dxe6,fxe6,d5,Nh5,dxe6,Nf4,Nb5,Rf8,Ne5,Nh3+,Kf1', 'Rxf2#', 'https://lichess.org/training/qAzix');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QAZVY', 'Classical', 'Sheldor2322', 1864, 'Tyu123', 1815, 'd4,Nf6,c4,e6,Nf3,Be7,Nc3,O-O,e4,c5,d5,exd5,cxd5,d6,Be2,a6,a4,Bd7,b3,Ng4,h3,Ne5,Bf4,Qb6,Nxe5,Bf6,Nxd7,Bxc3+,Bd2,Bxd2+,Qxd2,Nxd7,O-O,Ne5,f3,Qd8,f4,Ng6,Rab1,Qb6,Kh2,Qd8,b4,cxb4,Rxb4,Qa5,Qd4,b5,axb5,axb5,Rxb5,Qa2,Rb2,Qa5,Rb5,Qd8,Qb4,Qh4,Qxd6,Rfd8,Qc7,Rac8,Qa7,Nxf4,Bg4,Ra8,Qf2,Ng6,Qxf7+,Kh8,Qf2,Qe7,Bf5,Rf8,Qg3,Ne5,d6,Qxd6,Qxe5,Qd3,Rbb1,Rae8,Rbd1,Qe3,Qf4,Qc3,Qh4,Qe5+,Kh1,h6,Qg4,g5,Rd5,Qc3,Qd1,Qc4,Qa1+,Kg8,Qd1,Rxe4,Bxe4', 'Rxf1+,Kh2,Rxd1,Rxd1,Qxe4', 'https://lichess.org/training/QAZVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qaZya', 'Blitz', 'RedDragonM', 1905, 'WFM Bullet_House', 2059, 'd4,Nf6,c4,g6,Nc3,d6,e4,Bg7,Nf3,Nbd7,Be2,e5,O-O,O-O,h3,Ne8,Bg5,f6,Bh4,c6,dxe5,g5,exf6,Bxf6,Bg3,h5,e5,dxe5,Qd3,Qe7,Ne4,Nc5,Nxc5,Qxc5,Qg6+,Ng7,Bd3,e4,Bxe4,Bf5,Bxf5,Qxf5,Qxf5,Nxf5,Bh2,g4,hxg4,hxg4,Nd2,g3,fxg3,Bd4+,Kh1,Kg7,Nf3,Bb6,Nh4,Ne3,Rfe1,Ng4,Re7+,Kh6,Rae1,Nf2+,Kg1,Nh3+,Kh1,Nf2+,Kg1,Nd3+,Kh1,Nxe1,Rxe1,Rae8,Rd1,Re2,Nf3,Rxb2,g4,Rxa2,g5+,Kg6,Rd6+,Kf5,g4+,Kxg4,Ne5+,Kh3', 'Rh6#', 'https://lichess.org/training/qaZya');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QB0JH', 'Blitz', 'ratomir', 1814, 'bigbiff', 1809, 'd4,Nf6,Nf3,d5,Nbd2,Bg4,e3,Bxf3,Qxf3,Nbd7,Bd3,e5,dxe5,Nxe5,Qe2,Nxd3+,cxd3,Bb4,b3,Bc3,Rb1,O-O,Ba3,Re8,O-O,c6,Nf3,Nd7,d4,g5,Bd6,g4,Ne5,Nxe5,Bxe5,f6,Qxg4+,Kh8,Bf4,Rg8,Qf5,Rg6,a3,Ba5,b4,Bc7,Bg3,Bxg3,hxg3,Qe7,a4,Rag8,b5,h5,bxc6,bxc6,a5,h4,Qh5+,Qh7,Qxh4,Qxh4,gxh4', 'Rxg2+,Kh1,R2g4,f3,Rxh4#', 'https://lichess.org/training/QB0JH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qb7lw', 'Blitz', 'BrasilArq', 1687, 'ReznikSAR', 1677, 'd4,d5,Bf4,f6,e3,e5,dxe5,fxe5,Bxe5,Nf6,Nf3,Be7,Bd3,O-O,O-O,Bg4,Nbd2,c5,h3,Bh5,c3,Nc6,Bh2,Ne4,Qc2,c4,Bxe4,dxe4,Qxe4,Bg6,Qxc4+,Kh8,Rad1,Bd3,Qg4,Bxf1,Kxf1,Qe8,Ne5,Nxe5,Bxe5,Bf6,Bd6,Rf7,Nf3,Qb5+,Kg1,Qxb2,Ne5,Bxe5,Bxe5,Qxa2,Qg5,Qxf2+,Kh1,Raf8,Rd8,Qf5', 'Rxf8+,Rxf8,Qxg7#', 'https://lichess.org/training/qb7lw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qb88X', 'Blitz', 'danieljaber', 2243, 'IM junior64', 2340, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,Nf6,Bc4,Qa5,O-O,O-O,Bb3,d6,f3,Bd7,Qd2,Nxd4,Bxd4,Bc6,Rad1,Nd7,Bxg7,Kxg7,Nd5,Qc5+,Qd4+,Qxd4+,Rxd4,Bxd5,Bxd5,Rab8,c3,Rfc8,Bb3,Nc5,Kf2,a5,Bd1,b5,a3,Rb6,Be2,e5,Rd5,b4,axb4,axb4,Rfd1,bxc3,bxc3,Ne6,Rxd6,Rxd6,Rxd6,Rxc3,Rd2,Nd4,Ba6,Kf6,Bb7,Kg5,Bd5,f5,Ra2,f4,Rd2,h5,Kf1,Kf6,Kf2,g5,h3,g4,hxg4,hxg4,fxg4,Kg5,Ra2,Kxg4,Rb2,Rc2+,Rxc2,Nxc2,Be6+,Kg5,Bd5,Ne3,Bb7,Ng4+,Kf3,Nh2+,Kf2,Ng4+,Kf3,Nh2+,Ke2,Ng4,g3', 'fxg3,Kf3,Kh4', 'https://lichess.org/training/Qb88X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QB8Xh', 'Rapid', 'AshKetchum45', 1559, 'bpcox', 1579, 'e4,e6,Nf3,d5,d4,dxe4,Ne5,Bd6,f4,exf3,Qxf3,Nf6,Bd3,Nc6,Nxc6,bxc6,O-O,O-O,Bg5,Be7,Nc3,Qxd4+,Kh1,Rb8,Bxf6,Bxf6,Bxh7+,Kxh7,Qh5+,Kg8,Rf3,Rxb2', 'Rh3,Qh4,Rxh4,Bxh4,Qxh4', 'https://lichess.org/training/QB8Xh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qBa6G', 'Classical', 'Alperg', 1789, 'kazooie2244', 1730, 'd4,d5,Bf4,e5,Bxe5,Nc6,f4,f6,Bxc7,Qxc7,e3,Qb6,b3,Bb4+,c3,Bd6,Nf3,Bg4,Bd3,O-O-O,Nbd2,Re8,Kf2,Nge7,h3,Bd7,c4,Bb4,c5,Qd8,a3,Ba5,b4,Bc7,b5,Nf5', 'bxc6,Bxc6,Bxf5+', 'https://lichess.org/training/qBa6G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QBafE', 'Rapid', 'Dimitris27', 1755, 'Mikey_MouseBS', 1755, 'e4,c6,Bc4,d5,exd5,cxd5,Be2,e5,d4,e4,c4,Qa5+,Bd2,Bb4,Nc3,Nf6,a3,Bxc3,Bxc3,Qc7,c5,O-O,Bb5,Nc6,Ne2,a6,Ba4,Bg4,O-O,Ne8,Qe1,f5,Nf4,Qd7,Bb3,Nf6,h3,Bh5,Nxh5,Nxh5,Qe2,Nf4,Qe3,Ng6,Rac1,f4,Qe2,Rad8,Qh5,Rf5,Qg4,Rdf8,f3,exf3,Rxf3,Qe7,Re1,Qf6,Bc2,Rg5,Qd7,Nh4,Rf2,Rg3,Re6,Qg5,Ree2,f3,Qe6+,Kh8,Bd2,Rxg2+,Rxg2,fxg2,Bxg5', 'Rf1+,Kh2,g1=Q#', 'https://lichess.org/training/QBafE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qBapp', 'Rapid', 'lolo362', 1822, 'adamb123', 1802, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,c5,c3,Be7,Bd3,h6,Nbd2,O-O,O-O,c4,Bc2,b5,e4,a5,exd5,Nxd5,Bg3,Nc6,a4,b4,cxb4,Ndxb4,Nxc4,Nxc2,Qxc2,Nxd4,Nxd4,Qxd4,Rfd1,Qc5,b3,Ba6,Qe4,Bf6,Rac1,Qb4,Qf3,Rac8,h3,Rfd8,Rxd8+,Rxd8,Ne5,Bxe5,Bxe5,Rd3', 'Qa8+,Kh7,Qxa6', 'https://lichess.org/training/qBapp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QBbwj', 'Blitz', 'carlosfernandosanche', 2084, 'cholorock', 2090, 'd4,Nf6,Bf4,d5,e3,e6,Nd2,Bd6,Bg3,Nbd7,Ngf3,O-O,Bd3,h6,O-O,Qe7,Ne5,c5,c3,c4,Bc2,Nb6,f4,Bd7,a4,a5,Qe2,Be8,e4,dxe4,Nxe4,Nxe4,Qxe4,f5,Qe2,Bxe5,dxe5,Rc8,Bf2,Nd5,Bd4,Rf7,Qf2,Bc6,Bd1,Qd7,Bh5,Rff8,Bd1,b6,Bxb6,Nxb6,Qxb6,Rb8,Qf2,Qb7,Qc5,Bd5,Bf3,Bxf3,Rxf3,Qxb2,Rd1,Rfc8,Qd6,Qb6+,Qxb6,Rxb6,Rd7,Rb1+,Kf2,Ra1,Rg3,g5,fxg5,f4,Rg4,h5,Rxf4,Rf8,Rxf8+,Kxf8,g6,Rxa4,g7+,Kg8,Kg3,Ra2,Kh4,Rxg2,Ra7,Rxh2+,Kg3,Rc2,Kh4,Rxc3,Kxh5,Rc1,Kg6,Rg1+,Kf6,c3', 'Ra8+,Kh7,Rh8#', 'https://lichess.org/training/QBbwj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qbDB0', 'Rapid', 'tfgklm', 1815, 'asv70', 1761, 'e4,c6,d4,d5,e5,c5,Bb5+,Bd7,Bxd7+,Nxd7,c3,cxd4,cxd4,e6,Nf3,h6,Bd2,Ne7,Bb4,Nf5,Qb3,b6,Nc3,a6,O-O,b5,a4,Rb8,axb5,axb5,Ba5,Qc8,Bb4,Bxb4,Qxb4,Qc4,Qa5,O-O,Qa7,Rfd8,Rfd1,b4,Na4,b3,Rac1,Qb5,Nc5,Nb6,Ra1,Nc4,Rdb1,Ra8,Qc7,Rac8,Qb7,Qxb7,Nxb7,Rd7,Nc5,Rdc7,Ra4,Nxd4,Nxd4,Rxc5,Nxb3,R5c7,f4,Ne3,Nd4,Rb7,b4,Rcb8,b5,Nc4,Rab4,Kf8,Nc6,Rc8,g4,f6,h4,Ne3,g5,fxg5,hxg5,h5,g6,Ke8,Kf2,Nf5,Rh1', 'Rxc6,bxc6,Rxb4', 'https://lichess.org/training/qbDB0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qBdTh', 'Blitz', 'chandra22', 1736, 'troglodiths', 1789, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,Bb7,Bg5,Nxe4,Bxf7+,Kxf7,Qf3+,Ke8,Nxe4,h6,Qh5+,Kd7,Nc3,b4,Na4,Qa5,Qh3+,Ke8,Ne6,Nd7', 'Qh5+,g6,Qxg6#', 'https://lichess.org/training/qBdTh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qBEzJ', 'Rapid', 'kratos_the_best', 2028, 'JoseZavala', 2084, 'c3,d6,d4,Nf6,e3,g6,Nf3,Bg7,Bd3,O-O,O-O,Nc6,b3,Re8,Bb2,Bg4,Nbd2,e5,h3,Bxf3,Qxf3,e4,Nxe4,Nxe4,Bxe4,Qe7,Bxc6,bxc6,Qxc6,a5,Qf3,c5,d5,a4,Rab1,axb3,axb3,Qb7,c4,Bxb2,Rxb2,f5,Re1,Qg7,Reb1,Rab8,Qd1,Rb7,Qe1,Reb8,Qd2,Qe5,f4,Qe4,Qe2,Re8,Re1,Rbe7,Kf2,Rb7,Qf3,Qd3,Qe2,Rxb3,Qxd3,Rxd3,Rc2,Rb3,Ree2,Re4,g4,Rb4,gxf5,gxf5,Kf3,Rbxc4,Rg2+,Kf7,Rxc4,Rxc4,Ra2,Re4,Ra7+,Re7,Ra6,Rd7,e4,fxe4+,Kxe4,Kf6,h4,h5,Kf3,Kf5,Ra8,Kg6,Rf8,Rf7,Rg8+,Kh7,Rg5,Kh6,f5', 'Rg7,Rg3,Rxg3+', 'https://lichess.org/training/qBEzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qbfiF', 'Rapid', 'Bashir33384', 1712, 'Jacko68', 1638, 'e4,e5,Bc4,Nc6,d3,Nf6,Bg5,Be7,h3,h6,Bxf6,Bxf6,Nf3,O-O,c3,Na5,Bb3,d6,Bc2,c5,O-O,Be6,Nbd2,Nc6,a3,b5,b4,cxb4,axb4,a5,bxa5,Rxa5,Rxa5,Qxa5,Nb3,Bxb3,Bxb3,Qxc3,Qb1,Nd4,Nxd4,Qxd4,Bc2,b4,Kh1,Ra8,Qb3,Ra3,Qb1,Bh4,g3,Bg5,f4,exf4,gxf4,Bxf4,Qd1,Ra2,Rxf4,Ra1,Bb1,Qb2,Rf1,b3,Qc1,Qd4,Qc8+,Kh7,Qf5+,Kg8,Qxf7+,Kh8,Qf8+,Kh7,Qf5+,Kg8,Qf8+,Kh7,Qf5+,Kg8,Qf7+,Kh7,Qxb3,Qe3,Qc2,Qxh3+,Qh2,Qe3,d4', 'Rxb1,Rxb1,Qxe4+,Qg2,Qxb1+', 'https://lichess.org/training/qbfiF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QbFL8', 'Rapid', 'JhonWalter', 1724, 'volk82', 1762, 'e4,e6,Nf3,d5,e5,f6,d4,Nc6,c3,b6,Bb5,Bb7,O-O,a6,Ba4,b5,Bb3,Qd7,a3,O-O-O,Be3,Nge7,Nbd2,Ng6,exf6,gxf6,Bc2,e5,dxe5,fxe5,b4,d4,cxd4,exd4,Bg5,Be7,Re1,Bxg5,Nxg5,Nge5,Nde4,d3,Bb3,Kb8,Nc5,Qf5,Nge6,Rdg8,Nxb7', 'Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/QbFL8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qbfPC', 'Classical', 'Metafos67', 1870, 'Amini1611', 1883, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Bc4,O-O,d3,c6,Bg5,d5,exd5,cxd5,Bxf6,gxf6,Bb3,d4,a3,Ba5,O-O,dxc3,bxc3,Bxc3,Rb1,Nc6,Nh4,Nd4,Ba2,f5,Qh5,Qf6,f4,Kh8,fxe5,Qxe5,Bxf7,Qg7', 'Ng6+,Qxg6,Bxg6', 'https://lichess.org/training/qbfPC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QbFsd', 'Rapid', 'Alekc_Zeml', 1674, 'ZeroPhux', 1644, 'e4,e5,Nf3,Nc6,Bc4,g6,d3,Bg7,O-O,Nh6,Ng5,O-O,Nd2,Ne7,Ndf3,d5,exd5,Nxd5,Re1,Nf4,Nxe5', 'Qxg5,Bxf4,Qxf4', 'https://lichess.org/training/QbFsd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QbGXn', 'Rapid', 'Silidor', 1940, 'murtag00', 1975, 'd4,d5,g3,c5,Nf3,cxd4,Nxd4,e5,Nb3,Nf6,Bg2,Nc6,O-O,Bf5,Bg5,Nb4,Na3,e4,c3,Nc6,Nb5,Be7,Bf4,O-O,N5d4,Nxd4,Nxd4,Bg6,Kh1,Nh5,Be3,f5,Ne6,Qd7,Nxf8,Rxf8,f3,f4,gxf4,Nxf4,Bxf4,Rxf4,e3,exf3,Bxf3,Rxf3,Rxf3,Be4,Kg1,Bg5,Qf1', 'Qg4+,Rg3,Bxe3+,Qf2,Bxf2+', 'https://lichess.org/training/QbGXn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QBh3d', 'Blitz', 'anna_macneill-redwin', 2167, 'FM Oscar-i', 2285, 'f3,d5,g3,e5,Bg2,c6,c3,h5,d4,exd4,cxd4,h4,Nc3,hxg3,hxg3,Rxh1,Bxh1,Bd6,f4,g5,e3,gxf4,exf4,Nf6,Nf3,Bg4,Qe2+,Qe7,Be3,Nbd7,O-O-O,O-O-O,Re1,Re8,Qd2,Bxf3,Bxf3,Nb6,b3,Bb4,Bf2,Qd7,Rxe8+,Qxe8,Kc2,Nbd7,Qe3,Qxe3,Bxe3,Kd8,Ne2,Ke7,Kd3,Bd6,g4,Nf8,g5,N6d7,f5,Kd8,Bh5,Ke7,f6+,Ke6', 'Bg4#', 'https://lichess.org/training/QBh3d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qBHpB', 'Rapid', 'Patreszer1991', 1900, 'killer102', 1955, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Bb5+,Bd7,O-O,a6,Bxd7+,Qxd7,Re1,g6,Bf4,Bg7,Be5,Bxe5,Rxe5,Ne7,Re1,O-O,Qe2,Nc6,Rad1,Rfc8,Ne4,Qe7,Ng3,Nb4,c3,Nc6,Qc2,a5,Rxd5', 'Nb4,Qe4,Nxd5', 'https://lichess.org/training/qBHpB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QBIt8', 'Classical', 'araldavuteserli', 1743, 'rumbaool', 1742, 'c4,e5,Nc3,c6,e4,Bb4,Nf3,Bxc3,bxc3,d6,Ba3,c5,d4,exd4,Bb2,dxc3,Bxc3,f6,Bd3,Bg4,O-O,Ne7,Be2,O-O,Bb2,Nbc6,Qc2,Nd4', 'Nxd4,Bxe2,Nxe2', 'https://lichess.org/training/QBIt8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qBJ0q', 'Rapid', 'Magiciansurya', 1615, 'djr_217', 1618, 'e4,e5,f4,d6,Nf3,Nc6,c3,Nf6,d4,exd4,cxd4,Nxe4,Bd3,f5,d5,Nb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/qBJ0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qBJf9', 'Rapid', 'SirHachossur', 1643, 'digitaldoug', 1627, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,Bd3,c5,b3,cxd4,exd4,O-O,Bb2,Nc6,Nf3,Bg4,Be2,dxc4,Bxc4,Nxd4', 'Qxd4,Bxf3,Qxd8,Rfxd8,gxf3', 'https://lichess.org/training/qBJf9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qBl3H', 'Classical', 'Alaapkpok', 1779, 'Spyro994', 1736, 'e4,c6,Nc3,d5,Nf3,Nf6,e5,Ne4,d4,Qa5,Qd3,Bf5,Bd2,Nxd2,Qxf5,Nxf1,Qc8+,Qd8,Qxb7,Nd7,Qxc6,Nxh2,Nb5,Nxf3+,gxf3,e6', 'Nc7+,Qxc7,Qxc7', 'https://lichess.org/training/qBl3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qboPc', 'Rapid', 'Al_Tag', 1720, 'MarkZablocki', 1709, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,Nf3,Bxc3+,bxc3,b6,Bd3,Ba6,O-O,Bxd3,cxd3,Nc6,dxc5,bxc5,Ba3,Qa5,Bb2,Nge7,d4,O-O,Ng5,Rab8,Qc2,Ng6,f4,Nce7,h4,Nf5,Rf3,Nfxh4,Rh3,h6,Rxh4,hxg5,Rg4,gxf4,Kf2,Qb5,Ba3,Rfc8,Rh1,cxd4,Rxg6,Rxc3', 'Rxg7+,Kxg7,Qh7#', 'https://lichess.org/training/qboPc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qBorX', 'Blitz', 'bombardier77', 1903, 'OLM5111', 1911, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,Qb6,a3,cxd4,cxd4,Nge7,Bd3,Bd7,O-O,Nxd4,Nxd4,Qxd4,Re1,Qb6,Nc3,Ng6,Bxg6,hxg6,b4,Rc8,Bb2,a5,bxa5,Qxa5,Qf3,Bc6,Qf4,Be7,Ne2,Rh4,Qg3,Ra4,Nf4,Bxa3,Bxa3,Ra8,Re3,Qd2,Nxg6,Qd4,Rc3,Rxa3,Rcxa3', 'Qxa1+,Rxa1,Rxa1#', 'https://lichess.org/training/qBorX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QBPJD', 'Rapid', 'hollysteric', 1634, 'dafidi', 1664, 'c4,b6,Nc3,Bb7,d4,Nf6,Nf3,e6,Bg5,h6,Bh4,Be7,e3,d5,b3,Nbd7,cxd5,Nxd5,Bxe7,Qxe7,Nxd5,Bxd5,Bc4,Qb4+,Nd2,Bxc4,bxc4,c5,O-O,O-O,a3,Qc3,d5,exd5,cxd5,Nf6,e4,Qd4,Re1,Rfe8,Qc2,Re7', 'Nf3,Qxa1,Rxa1', 'https://lichess.org/training/QBPJD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qbPQr', 'Blitz', 'ALEXEYSMELOV', 2448, 'GM Obiwankanoebi', 2489, 'd4,g6,Nf3,Bg7,Bf4,c5,c3,Nf6,e3,O-O,h3,b6,a4,a6,Nbd2,Bb7,Be2,d6,O-O,Nbd7,Re1,Qc7,Bf1,Rfe8,Nc4,Ne4,Rc1,Rac8,Ncd2,Ndf6,Nxe4,Nxe4,Ng5,Nxg5,Bxg5,Qb8,Qb3,Qc7,Bc4,e6,Bf1,c4,Qa3,e5,dxe5,dxe5,Bh4,Bf8,Qa2,b5,axb5,axb5,Rcd1,Be7,Bxe7,Rxe7,Qa7', 'Ra8,Qxa8+,Bxa8', 'https://lichess.org/training/qbPQr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qbpsW', 'Rapid', 'a_stoykov86', 1999, 'Fisho', 2157, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Be6,Nd5,Nf6,Bg5,Be7,Bxf6,gxf6,c4,f5,Bd3,Nd4,Nc2,fxe4,Bxe4,Nxc2+,Qxc2,Qa5+,Kf1,Bxd5,Bxd5,Rc8,Qf5,Qc5,Qxf7+,Kd8,h4', 'Rf8,Qxf8+,Bxf8', 'https://lichess.org/training/qbpsW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QbrFT', 'Rapid', 'AFOFAIFO', 1606, 'z-Exit', 1671, 'e4,c6,d3,d5,Be2,dxe4,dxe4,Qxd1+,Bxd1,Nd7,Bg4,Ngf6,Bxd7+,Bxd7,Nc3,e5,Bg5,Be7,O-O-O,O-O-O,Nf3,Bg4,Rxd8+,Rxd8,Nxe5,h6,Nxg4,hxg5,Nxf6,Bxf6,Rd1,Bxc3,bxc3,g4,Rxd8+,Kxd8,Kd2,Ke7,Ke3,g5,e5,f5,exf6+,Kxf6,Ke4,a5,c4,Ke6,c3,c5,a3,a4,h3,gxh3,gxh3,Kd6,Kf5,Kc6,Kxg5,b5,f4', 'b4,cxb4,cxb4', 'https://lichess.org/training/QbrFT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QbRHL', 'Bullet', 'Benji6892', 1872, 'CRB1164', 1864, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c4,Nc6,Be3,Nf6,Nc3,O-O,Be2,d6,O-O,Nxd4,Bxd4,e5,Be3,Be6,f3,Qe7,Nd5,Bxd5,cxd5,Rfc8,Rc1,Qd7,Qd2,a6,Kh1,Qa4,b3,Qa3,Bb6,Nd7,Be3,Nc5,Rc2,a5,Bh6,Bxh6,Qxh6,a4,f4,axb3,axb3,Qxb3,f5,Nxe4,fxg6,fxg6,Rxc8+,Rxc8,Bg4,Qc4', 'Be6+,Kh8,Rf8+,Rxf8,Qxf8#', 'https://lichess.org/training/QbRHL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qbUaR', 'Blitz', 'IM AttackingBeast', 2683, 'Ac1000', 2543, 'd4,g6,Nf3,Bg7,e4,d6,Bc4,e6,Bb3,Ne7,O-O,a6,Re1,b6,c3,Bb7,Nbd2,Nd7,Nf1,h6,Ng3,c5,Bf4,Qc7,Qd2,e5,dxe5,dxe5,Be3,c4,Bc2,b5,b4,Nf8,a4,Ne6,axb5,axb5,Rxa8+,Bxa8,Ra1,Bb7,Ra5,Bc6,Ra7,Bb7,Ne2,h5,Ng5,Nxg5,Bxg5,f6,Be3,Kf7,f4,Ra8,Rxa8,Bxa8,fxe5,fxe5,Qe1,Bf6,Qf2,Kg7,h3,Bc6,Ng3,Qd7,Bh6+,Kf7,Bg5,Qe6,Nf1,Nc8,Ne3,Nd6,Nd5,Bxd5,exd5,Qe7,Bh6,e4,Be3,Kg7,Bc5,Bxc3,Qe3,Qf6,Qg3,Be5,Qa3,Qf4,Qa7+,Kh6', 'Be3,Nf5,Bxf4+', 'https://lichess.org/training/qbUaR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QbUDZ', 'Rapid', 'Martin99991', 1980, 'Totvik', 2048, 'c4,f5,Nc3,e5,e4,Nf6,exf5,Bc5,Nf3,O-O,d4,exd4,Nxd4,Nc6,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Re8+,Be2,d6,Qd3,a6,O-O-O,b5,cxb5,axb5,Qxb5,Ba6,Qb3+,Kh8,Bxa6,Rxa6,Rhe1,Rf8,a3,Qa8,Re7,Rb6,Qa4,Qxg2,Qf4,Rfb8,Rd2,Qh1+,Kc2,Rxb2+,Kd3,Qf1+,Ree2,R2b3,Qe3,Rxc3+,Kxc3,Nd5+,Rxd5,Qa1+,Kc4,h6,Qc3,Qf1,Rd3,Qxe2,Qd2,Qe4+,Rd4,Qc6+,Kd3,Qb5+,Ke3,Re8+,Kf4,Qe5+,Kg4,h5+,Kxh5,Qxf5+,Kh4,Re6,Rg4,Rh6+,Kg3,Qe5+,Qf4,Qc3+,Qf3', 'Rh3+,Kxh3,Qxf3+', 'https://lichess.org/training/QbUDZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qbVeU', 'Rapid', 'zesi01', 2127, 'zorant', 1845, 'd4,d5,c4,e5,dxe5,d4,a3,Nc6,Nf3,Bg4,Bf4,Bxf3,exf3,g5,Bg3,h5,h4,Bg7,hxg5,Qxg5,f4,Qd8,Bh4,f6,Bd3,Rh6,Nd2,Qd7,exf6,Bxf6,Ne4,Qe7,Bxf6,Nxf6,Qe2,O-O-O,O-O-O,Re8,Ng3,Qf7,Qf3,Ng4,Rxh5,Rxh5,Nxh5,Qxh5,Be2,Rxe2,Qxe2,Nf6,Qxh5,Nxh5,g3,Nf6,f3,Kd7,b4,a6,b5,axb5,cxb5,Na5,Rxd4+,Ke6,Kc2,Nd5,Re4+,Kf6,g4,b6,f5,Kg5,Re5,Nf4,Re7,Nd5,Rd7,Ne3+,Kd3,Nec4,Rxc7,Nxa3,Kc3', 'Nxb5+,Kc2,Nxc7', 'https://lichess.org/training/qbVeU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qBWKV', 'Rapid', 'danizito', 1745, 'jafarsaleh37', 1753, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,a6,Ba4,b5,Bb3,exd4,Nxd4,Bb7,Qf3,Qf6,e5,Nxd4', 'Qxb7,Qxe5+,Be3', 'https://lichess.org/training/qBWKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qBxHm', 'Bullet', 'Chiraz', 1594, 'davidbrooklyn2', 1589, 'Nf3,g6,g3,Bg7,Bg2,Nf6,c4,c6,Nc3,d5,cxd5,Nxd5,d4,O-O,e4,Nc7,Be3,Bg4,O-O,Nd7,Qd2,Nf6,h3,Bxf3,Bxf3,Nd7,Bg2,e5,d5,c5,Kh2,b6,a3,Ne8,Qe2,Nef6,Nb5,Nb8,f4,exf4,gxf4,a6,Nc3,Nfd7,e5,Re8,Qf2,Ra7,b4,Rc7,bxc5,Nxc5,d6,Nd3,Qd2,Rxc3,Qxc3,Nc5,Bxc5,bxc5,Qxc5,Nd7,Qf2,Nxe5,fxe5,Bxe5+,Kh1,Qxd6,Rad1,Qxa3,Bd5,Qxh3+,Kg1,Rb8,Qxf7+,Kh8,Qf3,Bh2+,Kh1', 'Bg3+,Kg1,Qh2#', 'https://lichess.org/training/qBxHm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QBXlK', 'Rapid', 'billik6464', 2293, 'Blindfold_Chess0', 2277, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Nxc3,g6,Bc4,Bg7,O-O,d6,h3,Nf6,Qe2,O-O,Rd1,Qc7,Bf4,Nh5,Bh2,Nf6,Rac1,a6,a4,Qa5,Ba2,Nb4,Bb1,Bh6,e5,dxe5,Nxe5,Bxc1,Rxc1,Be6,Ne4,Rac8,Re1,Nbd5,Ng5,Qxa4,Nxe6,fxe6,Ng4,Rc6,Ne5,Rb6,Qd3,Qe8,Qg3,Nh5,Qg5,Ndf4,Ng4,Rxb2,Kh1,Rb5,Qh4,Qf7', 'Nh6+,Kg7,Nxf7', 'https://lichess.org/training/QBXlK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QbYja', 'Rapid', 'Amolpatil', 1678, 'Princeshady', 1613, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,c5,c4,dxc4,Bxc4,Nf6,Nf3,Be6,Qe2,Qd6,O-O,Be7,Re1,Bxc4,Qxc4,O-O,Nc3,Nc6,Nb5,Qd7,d3,a6,Nc3,Rac8,Ne5,Qf5', 'Nxc6,Rxc6,Rxe7', 'https://lichess.org/training/QbYja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qbymD', 'Rapid', 'adel05', 1996, 'van_kazan', 1995, 'd4,Nf6,c4,e6,Nc3,Bb4,e4,d5,e5,Bxc3+,bxc3,Nfd7,Nf3,dxc4,Bg5,f6,exf6,Nxf6,Ne5,Nbd7,Bxc4,Nxe5,dxe5,Qxd1+,Rxd1,Ne4', 'Rd8+,Kf7,Rxh8', 'https://lichess.org/training/qbymD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qc27y', 'Rapid', 'a1bharadwaj2019_64k', 1678, 'AlexProka1977', 1671, 'e4,d6,d4,Nf6,Bd3,e5,d5,Be7,f4,O-O,f5,c6,c4,c5,Nf3,b6,O-O,h6,Nc3,Nbd7,Qe1,Rb8,Qg3,Kh8,a4,Rg8,Qf2,Nh7,h4,Ndf6,Kh1,Bd7,b3,a6,Rg1,g6,g4,gxf5,exf5,Nxg4,Qd2,Bxh4,Rxg4,Rxg4,Qxh6,e4,Nxe4,Bxf5,Neg5,Bxg5,Nxg5,Qxg5', 'Bxg5,Rxg5,Bxf5', 'https://lichess.org/training/qc27y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qc2k8', 'Rapid', 'Shakhmatnyi', 1960, 'Coolvoltage', 1918, 'd4,d5,Bf4,c5,e3,Nc6,c3,Bf5,dxc5,e5,Bg3,Bxc5,Nf3,e4,Nd4,Nxd4,cxd4,Bb4+,Nc3,Nf6', 'Qa4+,Kf8,Qxb4+', 'https://lichess.org/training/qc2k8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qC4u5', 'Blitz', 'MatteoMueller', 1657, 'abdelghany66', 1614, 'e4,d6,Nf3,e6,Nc3,h6,d4,a6,Bd3,b6,O-O,Bb7,d5,e5,Re1,Nd7,a4,g6,Bd2,Bg7,b4,Ne7,b5,a5,Ne2,O-O,c4,Nc5,Ng3,Nxd3,Re3,Nc5,Nh4,f6,Qf1,Bc8,f4,f5,fxe5,Bxe5,exf5,gxf5,Rf3,f4,Bxf4,Bxa1,Bxh6,Rxf3,Qxf3,Bd4+,Kh1,Bg7,Bxg7,Kxg7,Qc3+,Kf7,Nh5,Ng6,Qg7+,Ke8,Qxg6+,Kd7,Qf7+,Qe7', 'Nf6+,Kd8,Qg8+,Qf8,Qxf8#', 'https://lichess.org/training/qC4u5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qCa6p', 'Classical', 'Gruno22353', 1719, 'hamidkavari', 1699, 'e4,c5,Nf3,Nc6,Nc3,d6,h3,e5,a3,Nf6,Bc4,g6,d3,Be6,Bxe6,fxe6,O-O,Bg7,Bg5,O-O,Ne2,Nd4,Nexd4,cxd4,c3,dxc3,bxc3,Rc8,Qb3,Qc7,Qxe6+,Kh8,Rac1,Nd7,d4,Rce8,Qb3,h6,Be3,Qb6,Qa2,exd4,Nxd4,Nc5,Nb3', 'Qxb3,Qxb3,Nxb3', 'https://lichess.org/training/qCa6p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QcATW', 'Classical', 'KnightofSkyrim', 1613, 'Mo_O', 1618, 'e4,g6,d4,Bg7,Nf3,d6,Bb5+,Bd7,Bc4,h6,c3,b5,Bb3,e6,Bf4,Ne7,e5,d5,Nbd2,O-O,O-O,c6,Bc2,Na6,Nb3,Qb6,Ne1,c5,Be3,c4,Nc5,Rad8,f4,Nc6,Nf3,Nxc5,dxc5,Qb7,Nd4,Nxd4,cxd4,a5,Bd2,Ra8,b3,cxb3,axb3,b4,Qe2,Bb5,Bd3,Bxd3,Qxd3,Ra7,Ra2,Qc6,Rfa1,Rfa8,Bxb4,Qc7,Bd2,Kh7,Rc2,a4,bxa4,Rxa4,Rxa4,Rxa4,Qb5,Rxd4,g3,f6,exf6,Bxf6,Bc3,Rd1+,Kg2,Bxc3,Rxc3,Rd2+,Kh3,e5,c6,exf4', 'Qb7,Qxb7,cxb7,Rb2,Rc7+', 'https://lichess.org/training/QcATW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qcb0I', 'Blitz', 'IM Corre_por_tu_vida', 2558, 'GM mrsavic777', 2670, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,c6,Nge2,Bf5,d3,e6,O-O,Nd7,Ng3,Bg6,f4,Nh6,Bd2,O-O-O,a3,Qc7,b4,Nf5,Nxf5,Bxf5,Rb1,h5,b5,Nb6,Bb3,c5,Qe2,Bg4,Qe4,Be7,a4,Rd4,Qe1,c4,dxc4,Nxc4,Bxc4,Rxc4,b6,Bc5+,Kh1,Bxb6,Nb5,Qc6,a5,Bc5,Be3,a6,Na7+,Bxa7,Bxa7,Rxc2,Rf2,Rd8', 'Rxc2,Qxc2,Rc1,Qxc1,Qxc1+', 'https://lichess.org/training/Qcb0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qCBLP', 'Rapid', 'Flaster011', 1808, 'Am22am', 1853, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,Bg4,Be2,Bxf3,Bxf3,Nc6,Be3,Nf6,O-O,Nd7,d5,Nce5,Qe2,O-O,Rad1,f5,Rfe1,Nxf3+,Qxf3,Ne5,Qe2,Ng4,Bd4,fxe4,Qxg4,Bxd4,Rxd4,Rf5,Rexe4,Qf8,Rd2,Qf7,Rde2,Qf6,Qh3,Rf8,Re6,Qd4,R6e4,Rxf2,Qe6+,Kh8,h3,Rxe2+', 'Rxd4,Rxe6,dxe6', 'https://lichess.org/training/qCBLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qcBqb', 'Classical', 'Minatavr71', 1625, 'atavural', 1638, 'e4,c5,Nf3,d6,Bb5+,Bd7,Nc3,Nf6,d3,g6,Bg5,a6,Bxd7+,Qxd7,Bxf6,exf6,Qe2,Bg7,Nd5,Qc6,O-O,O-O,Qd2,Re8,Qa5,Nd7,Nc7', 'b6,Qd2,Qxc7', 'https://lichess.org/training/qcBqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qCbQP', 'Rapid', 'Venarich', 2025, 'dinedime664', 2078, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,g3,O-O,cxd5,exd5,Bg2,c6,e3,Nbd7,Nge2,h6,Bf4,Nh5,O-O,Nxf4,Nxf4,Nf6,Qb3,Qc7,Rfc1,Be6,Ncxd5,Qd7,Nxe6,fxe6,Nxe7+,Qxe7,Bh3,Rae8,a4,Ne4,Rc2,Kh8,a5,a6,Qd3,Ng5,Bg2,e5,dxe5,Qxe5,h4,Nf3+,Kh1,Qf6,Ra4', 'Ne1,Qb3,Nxc2', 'https://lichess.org/training/qCbQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qCf2u', 'Blitz', 'JOKO_BKD', 2294, 'MC_Agussalim', 2215, 'e4,e6,f4,d5,e5,c5,c4,d4,d3,Nc6,Nd2,f6,exf6,Nxf6,Ne4,Be7,Nf3,O-O,g3,Ng4,Qe2,e5,Bg2,Kh8,O-O,exf4,Bxf4,Bf5,Rae1,Bf6,Nxf6,Qxf6,h3,Ne3,Bxe3,dxe3,Qxe3,Qxb2,Ng5,h6,Ne4,Bxe4,Bxe4,Qd4,Bxc6,bxc6,Qxd4,cxd4,Rxf8+,Rxf8,Kg2,Rb8,Re2,Rb1,Kf3,Rg1,h4,c5,g4,Rh1,h5,Kh7,Kg2,Rd1,Re5,Rxd3,Rxc5,Rd2+,Kf3,Rxa2,Ke4,Rg2,Kxd4,Rxg4+,Kd3,Rg5,Rc7,a5,Ra7,Rxh5,Kd4,Rh4+,Kc5,Rh5+,Kb6,Rf5,c5,Rf2,c6,Rb2+,Kxa5,Rc2,Kb6,h5,Ra5,h4,c7,Kg6', 'Rc5,Rxc5,Kxc5,h3,c8=Q', 'https://lichess.org/training/qCf2u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QCga3', 'Rapid', 'slav2015', 1718, 'SamFF', 1836, 'e4,c5,Bc4,e6,Nc3,Nc6,a3,Nf6,d3,d5,exd5,exd5,Bb5,Bg4,Nf3,d4,Ne4,Nxe4,dxe4', 'Qa5+,b4,Qxb5', 'https://lichess.org/training/QCga3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qCGe2', 'Classical', 'uygarbaksi', 1849, 'Arthurdup', 1807, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qd2,Be7,Bc4,b5,Bd3,Bb7,Bxf6,Bxf6,Nf3,Nd7,O-O,O-O,Ne2,Nc5,Rab1,Nxe4,Qe3,Nc5,Ng3,Nxd3,Qxd3,Rc8,Ne4,Bxe4,Qxe4,d5,Qd3,Qa5,a3,Rc7,c3,Qa4,g3,h5,h4,Rc4', 'b3,Qxa3,bxc4', 'https://lichess.org/training/qCGe2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qchap', 'Rapid', 'THE_KNELL_97', 1734, 'gcbrigneti', 1749, 'e4,e5,Nf3,Nc6,h4,Nf6,h5,Bc5,b4,Bb6,b5,Nd4,Nxd4,Bxd4,c3,Bc5,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nxd2,Qe7,Bd3,d5,e5,Nd7,Nf3,f6,Kd2,fxe5,Nxe5,Qb4+,Kc2,Qxd4', 'Bg6+,hxg6,Qxd4', 'https://lichess.org/training/qchap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QcjKo', 'Rapid', 'redsilk111', 1779, 'Disaigrasag', 1691, 'c4,c5,Nf3,Nc6,Nc3,Nf6,g3,e5,Bg2,d6,O-O,Be7,d3,Nd4,Nxd4,exd4,Nd5,Nxd5,Bxd5,Qc7,e3,dxe3,Bxe3,Bf6,Re1,O-O,Qf3,Rb8,Re2,b6,Bf4,Bb7,Rae1,Bxd5,Qxd5,Rbd8,Bg5,Bxg5,Qxg5,Qd7,Re7,Qa4,a3,Qc2,R7e2,Qxd3', 'Qxd8,Qxe2,Qxf8+,Kxf8,Rxe2', 'https://lichess.org/training/QcjKo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qcLAy', 'Rapid', 'UPSalla8', 1800, 'Karkhaneh1398', 1849, 'd4,d5,c4,c6,Nf3,Nf6,e3,e6,Nbd2,Nbd7,b3,Bb4,Bd3,O-O,O-O,c5,Bb2,cxd4,exd4,Qc7,Rc1,Qa5,Bb1,Re8,Qc2,h6,cxd5,exd5,Rfd1,b6,Ne5,Bd6,Ndf3,Ne4,Qc6,Rb8,Nxd7,Bxd7,Qxd7,Qa6,Ne5,Rbd8,Qxf7+,Kh8,Ng6+,Kh7,Nh4,Rf8,Qg6+,Kg8,Nf5,Rd7,Nxh6+,Kh8,Nf5,b5,Rd3', 'Bxh2+,Kxh2,Qxg6,Rh3+,Kg8', 'https://lichess.org/training/qcLAy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qcld0', 'Rapid', 'percydace', 1725, 'drewbock', 1759, 'e4,c5,Nf3,Nc6,Bc4,d6,Ng5,Ne5,Bb3,c4,Ba4+,Bd7,Bxd7+,Nxd7,O-O,e5,d3,Be7,Nf3,Ngf6,Nc3,O-O,b3,cxd3,cxd3,Rc8,Bb2,Qa5,Qd2,Rc6,a3,Rfc8,b4,Qb6,Rac1,Nf8,Ng5,Ng6,Na4,Qd8,Nc3,h6,Nf3,Nf4,Ne2,N6h5,g4,Nxe2+,Qxe2,Nf4,Qe3,Bg5,Qxa7,Nh3+,Kg2,Bxc1,Kxh3,Bxb2,Qxb7,Bxa3,Nh4,Rb6,Qd5,Bxb4,f4,Bc3,fxe5,Bxe5,Qxf7+,Kh7,Qg6+,Kh8,Qf7,Bf6,Ng6+,Kh7,Nh4,Bxh4,Rf5,Be7,Rh5,Qf8', 'Rxh6+,Kxh6,Qh5#', 'https://lichess.org/training/Qcld0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QcMD7', 'Blitz', 'ariyan1359', 1857, 'Esdla7', 1761, 'd4,g6,Bf4,Bg7,e3,d6,Nf3,Nd7,Be2,e5,dxe5,dxe5,Bg5,Ne7,Nbd2,O-O,c3,a6,h3,b5,O-O,h6,Bh4,Qe8,a4,Bb7,axb5,axb5,Bxb5,c6,Rxa8,Bxa8,Bc4,Nf5,Nb3,e4,g4,exf3,gxf5,Ne5,Bd3,g5,Bg3,Nxd3,Qxd3,Qc8,Nd4,c5,Nb3,c4,Qd6,cxb3,f6,Bh8,Rd1,Qxh3', 'Qxf8+,Kh7,Qxf7+,Bg7,Qxg7#', 'https://lichess.org/training/QcMD7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qCMfN', 'Rapid', 'Papaistdumm', 1937, 'tuco64', 2022, 'd4,f5,Nf3,Nf6,c4,e6,e3,c6,Nc3,d5,Bd3,Be7,Qc2,O-O,b3,a6,Bb2,Bd7,c5,b5,cxb6,Qxb6,Ne5,Be8,O-O,Nbd7,Na4,Qc7,Qxc6,Qb8,Rac1,Nxe5,dxe5,Bxc6,exf6,Bxf6,Rxc6,Bxb2,Nxb2,Qe8,Rfc1,e5,Bxa6,f4,exf4,Rxf4', 'Rc8,Rxc8,Rxc8,Qxc8,Bxc8', 'https://lichess.org/training/qCMfN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qCMNI', 'Blitz', 'Isgender123', 1851, 'DAPappas', 1790, 'g3,d5,Bg2,c6,d3,Nf6,Nf3,Bg4,O-O,Nbd7,d4,e6,Nc3,Bd6,Bg5,h6,Bd2,O-O,h3,Bxf3,Bxf3,Qb6,e3,Qxb2,Bg2,Qb6,e4,dxe4,Nxe4,Nxe4,Bxe4,f5,Bd3,Qxd4,Be3,Qf6,Kg2,f4,Bd4,e5,Bc3,f3+,Kh2,Rad8,Rb1,Nc5,Bc4+,Kh8,Qc1,Qf5,Qe3,e4', 'Qxh6+,Qh7,Bxg7#', 'https://lichess.org/training/qCMNI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QCNgQ', 'Rapid', 'AleksandrShkarbanov', 1607, 'Anthonyedd', 1667, 'e4,d5,e5,d4,Bc4,b5,Bb3,c5,a3,c4,Ba2,e6,Nf3,Nc6,d3,Ba6,dxc4,bxc4,c3,d3,O-O,f6,Bf4,fxe5,Nxe5,Nxe5,Bxe5,Nf6,Bxf6,Qxf6,Qh5+,g6,Qg4,h5,Qe4,Rc8,h3,Rc5,Qa8+,Kf7', 'Qxa7+,Qe7,Qxa6', 'https://lichess.org/training/QCNgQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QCnrN', 'Rapid', 'FrankyRoyke', 2402, 'ChesseBelle', 2387, 'd4,Nf6,Nf3,e6,g3,b6,Bg2,Bb7,O-O,d5,Nbd2,c5,b3,Be7,Bb2,O-O,c4,Qc7,Rc1,Nbd7,Qc2,Rac8,Qb1,Rfd8,cxd5,Nxd5,a3,Qb8,e4,N5f6,Rfe1,Nf8,dxc5,Bxc5,Nc4,Bxe4', 'Rxe4,Nxe4,Qxe4', 'https://lichess.org/training/QCnrN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QcnSu', 'Rapid', 'solarpunk', 1716, 'VERDEPLATA', 1627, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,Nc3,d6,b3,Na5,Bb2,Nxc4,dxc4,c5,Nd5,Bg4,Qe2,a6,O-O,b5,h3,Bh5,g4,Bg6,Nd2,Nxd5,cxd5,Be7,c4,O-O,cxb5,axb5,Qxb5,Bg5,Nf3,Bf4,Qc4,Rb8,a3,Qb6,Nh4,Bh7,Nf5,Qxb3,Qxb3,Rxb3,Ra2,Rfb8,Rb1,Rxh3,Kg2,Rh2+,Kf3,Rh3+,Ke2,Rhb3,f3,R8b6,Ne7+,Kh8,Nc6,g6,a4,h5,a5,Ra6,Ra3,Rb5,gxh5,gxh5', 'Bxe5+,Bxe5,Rxb5', 'https://lichess.org/training/QcnSu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QcoMI', 'Rapid', 'gravitywave', 1903, 'luppolo26', 1875, 'd4,e6,Nc3,a6,e4,Bb4,a3,Bxc3+,bxc3,d5,e5,Ne7,Bd3,O-O,Qh5,g6,Qh6,Nf5,Bxf5,exf5,Bg5,f6,Bxf6,Qd7,Nf3,Nc6,Ng5,Nd8,e6,Re8,e7,Rxe7+,Bxe7,Qxe7+,Kf1,Ne6,Re1', 'Qxg5,Qxg5,Nxg5', 'https://lichess.org/training/QcoMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QCqXQ', 'Rapid', 'In_search', 1689, 'Vytautas15', 1693, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,Ng5,O-O,d3,h6,Nf3,d5,exd5,Nxd5,c3,Na5,Bxd5,Qxd5,b4,Bxf2+,Rxf2,Nc6,Rf1,Bg4,c4,Qd7,a3,Bxf3,Qxf3', 'Qd4+,Qf2,Qxa1,Bb2,Qa2', 'https://lichess.org/training/QCqXQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QCuGi', 'Rapid', 'WhiteScarab', 2153, 'KanExtension', 2010, 'e4,c5,Nc3,g6,g3,Nc6,Nge2,Nf6,Bg2,Bg7,O-O,O-O,d3,d6,h3,a6,f4,Rb8,Be3,Qc7,g4,b5,g5,Nd7,Nd5,Qa5,Bd2,b4,c3,bxc3,bxc3,Nb6,Rb1,Bd7,c4,Qxa2,Nxb6,Be6,Nd5', 'Rxb1,Qxb1,Qxd2', 'https://lichess.org/training/QCuGi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qcUMm', 'Blitz', 'JockerVic', 1837, 'birdseye27', 1828, 'e4,e5,f4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qd8,fxe5,Bc5,Na4,Bb6,Nxb6,axb6,d4,Bg4,c3,Nge7,Bc4,Nf5,O-O,O-O,Qd3,Na5,Bb5,c6,Ba4,b5,Bc2,Nc4,Ng5,h6,Rxf5,hxg5,Rxg5,f5,exf6,Qxf6,Qh7+,Kf7,Rxg4,Ke8,Bg5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/qcUMm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QCuYW', 'Blitz', 'lucas21', 1615, 'jjbbpp22', 1693, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,a6,a3,h6,Be3,b5,Bd3,Bb7,Nc3,Nd7,O-O,Ngf6,f4,Be7,f5,e5,Nf3,Nc5,Bxc5,dxc5,Nxe5,c4,Ng4,Nxe4,Nxe4,Qd4+,Kh1,cxd3,cxd3,Bxe4,f6,Bxf6,Nxf6+,gxf6,Qh5,Bg6,Rae1+,Kf8,Qh3,Kg7,Qf3,Bxd3,Rd1,Rad8,Rxd3,Qxd3', 'Qxf6+,Kg8,Qxf7#', 'https://lichess.org/training/QCuYW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QcVM1', 'Rapid', 'gokhaner', 1709, 'Strike777', 1693, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Nxf7,Kxf7,Na3,Nxc4,Nxc4,Bc5,Nxe5+,Kf8,O-O,Qd6,d4,Qxd5,dxc5,Qxe5,Re1,Qxc5', 'Qd8+,Kf7,Qxh8', 'https://lichess.org/training/QcVM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qcxI0', 'Rapid', 'kombat_ace', 1694, 'domi35', 1878, 'e4,e6,Nc3,d5,exd5,exd5,Qe2+,Be6,Qb5+,Nd7,Qxb7,c5,Bb5,Nf6,Bxd7+,Nxd7,Nxd5,Rb8,Qc6,Rb6,Nc7+,Ke7,Nxe6,fxe6,Qe4,Nf6,Qe3,Kf7,Ne2,Qd5,O-O,Bd6,Nf4,Qf5,d3,g5,Nh3,Ng4,Nxg5+,Kg6,Qxe6+', 'Qxe6,Nxe6,Bxh2+,Kh1,Rxe6', 'https://lichess.org/training/qcxI0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QCYVT', 'Classical', 'Angelotor', 2141, 'CoffeeIsGoodForYou', 1800, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bg4,h3,Bh5,Qe2,e6,Qb5+,Nbd7,Qxb7,Bd6,Bb5,O-O,Bc6,Rb8,Qxa7,Rb6,Ne5,Nxe5,dxe5,Bxe5,Bf3,Bxf3,gxf3,Bxc3+,bxc3,Qd5,Qxc7,Rc6,Qf4,Nh5,Qe3,Rfc8,Bb2,Rb8,Rb1,Qxa2,O-O,Rcb6,Qe5,Rb5,Qc7,Rxb2', 'Qxb8+,Rxb8,Rxb8#', 'https://lichess.org/training/QCYVT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qCzMP', 'Rapid', 'LAAR', 1637, 'L-sher', 1624, 'e4,c5,c4,g6,d3,Bg7,Nc3,e6,Be3,Ne7,Bxc5,b6,Be3,d5,cxd5,exd5,exd5,Nxd5,Nxd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,O-O,h3,Bf5,Rc1,Rac8,b3,Qa5+,Qd2,Qxd2+,Kxd2,Rfd8,Ba6,Rc7,Ke2,Nxd4+,Nxd4,Rxc1,Rxc1,Bxd4,Bxd4,Rxd4,Bc4,Kg7,g4,Bd7,Rd1,Rxd1,Kxd1,Kf6,Kd2,Be6,f4,Bxc4,bxc4,g5,Ke3,h6,Ke4,Ke6,f5+,Kd6,Kd4,f6,a4,a5,Kc3', 'Kc5,Kd3,Kb4', 'https://lichess.org/training/qCzMP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QCZvY', 'Blitz', 'NikolaiCapel', 1631, 'dpisplayinginmyhouse', 1584, 'e4,e5,f4,exf4,Nf3,Bd6,Bc4,Nf6,O-O,O-O,d3,c6,c3,b5,Bb3,a5,a4,Na6,Bc2,b4,e5,Bc5+,d4,Nd5,dxc5,bxc3,Nxc3,Nxc3,bxc3,Nxc5,Bxf4,Qb6,Nd4,f6,Qh5,g6,Bxg6,hxg6,Qxg6+,Kh8,Bh6,Ne6,Bxf8,Nxf8,Qxf6+,Kh7,Qxf8,Bb7,Rf7+,Kg6,Qg7+,Kh5,g4+,Kh4,Kg2,Qb2+,Kf3,c5+,Kf4', 'Qf2+,Nf3+,Qxf3#', 'https://lichess.org/training/QCZvY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qD0cD', 'Blitz', 'BogdanBelyakov', 1914, 'greg_sarg', 2111, 'e4,c5,c3,e6,d4,d5,exd5,exd5,Be3,c4,b3,cxb3,axb3,Bd6,Nf3,Ne7,Bd3,h6,O-O,O-O,h3,Nbc6,Bc2,Bf5,Na3,a6,b4,Qd7,Bxf5,Nxf5,Re1,Rae8,b5,axb5,Nxb5,Bb8,Qd3,Nxe3,Rxe3,Rxe3,Qxe3,Re8,Qd3,Re4,Rb1,Qe7,Kf1,Na5,Nd2,Re6,c4,dxc4,Nxc4,Nxc4,Qxc4,Qd7,d5,Rg6,Nc3,Be5,Ne4,b6,Rc1,Kh7,Qd3,Qf5,g4,Qf4,Rc6,Qh2,Rxb6,Rxb6', 'Nf6+,Kh8,Qh7#', 'https://lichess.org/training/qD0cD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qd1Fm', 'Blitz', 'FM Wuchtig', 2415, 'ican', 2184, 'c4,e5,g3,Nf6,Bg2,d6,Nc3,Nc6,e3,g6,Nge2,Bg7,b3,O-O,Bb2,Nd7,O-O,f5,d4,Ne7,Nd5,c6,Nxe7+,Qxe7,dxe5,Nxe5,Qc2,Be6,Rad1,Rad8,Rfe1,Rfe8,Nf4,Bf7,Ba3,c5,Nd5,Qd7,Bb2,g5,h3,f4,exf4,gxf4,Bxe5,Bxe5,gxf4,Bg7,Rxe8+,Rxe8,Qd3,Bd4,Qg3+,Kh8,Rxd4,cxd4,Nf6,Qe7,Nxe8,Bxe8,Qd3,Qg7,f5,b6,f4', 'Bc6,Qf1,d3', 'https://lichess.org/training/Qd1Fm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qd2Ah', 'Rapid', 'emekagiant', 1848, 'Algaja_1', 1835, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,Nge7,Na3,a6,Be2,O-O,Nac2,Qg6,Bf3,Ne5,O-O,d6,Bf4,Nxf3+,Qxf3,Bg4,Qd3,Nd5,Bg3,Nf6,Rfe1,Nh5,Ne3,Bd7,Nef5,Rae8,Rad1,Bxf5,exf5,Rxe1+,Rxe1,Qf6,Qf3,Nxg3,Qxg3,Bxd4,cxd4,Qxd4,Qf3,Qxb2,a3,b5,h4,c5,h5,Qf6,Re4,c4,Qh3,c3,h6,Qxh6,Qxc3,Qf6,Qf3,d5,Rg4,Re8,Qxd5,h6,Rg6,Re5', 'Qa8+,Kh7,Rxf6', 'https://lichess.org/training/qd2Ah');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qd2qq', 'Rapid', 'Phoenice', 1773, 'DrFatos', 1726, 'e3,e5,Nc3,Nf6,Nf3,e4,Nd4,d5,d3,c5,Nb3,d4,Nxe4,Nxe4,dxe4,Nc6,Bb5,Bd7,exd4,Nxd4,Bxd7+,Qxd7,Nxd4,cxd4,O-O,Be7,Re1,O-O,b3,Bb4,Bd2,a5,a3,Bxd2,Qxd2,Rfd8,Qd3,Qg4,Rad1,Rd6,Re2,Rg6,g3,Rd8,Red2,Qh3,Qf3,Rf6,Qg2,Qg4,Rxd4', 'Qxd1+,Rxd1,Rxd1+', 'https://lichess.org/training/qd2qq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qd3Wz', 'Rapid', 'favalle37', 1968, 'pulson2011', 1914, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Be2,b5,f3,Bb7,Be3,Nbd7,O-O,g6,Qd2,h5,Rad1,Rc8,Bg5,Bg7,Bd3,Ne5,Nce2,Nc4,Bxc4,bxc4,c3,Nd7,Kh1,Ne5,f4,Nd3,Ng3,h4,Nge2,Bxe4,Qe3,d5,h3,Nxb2,Rb1,Bxb1,Rxb1,Nd3,Rb7,Rc7,Nc6,Qd7,Rb8+,Rc8', 'Rxc8+,Qxc8,Qxe7#', 'https://lichess.org/training/Qd3Wz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qD4jd', 'Bullet', 'cledec', 1575, 'ahmetucar3781', 1571, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,Nbd2,d6,Bd3,Nc6,c3,a6,Qc2,b5,h4,h5,Ng5,Ng4,f3,e5,Bg3,Nxe3,Qb3,Nxg2+,Kf2,exd4,Kxg2,dxc3,bxc3,Bb7,Nde4,Ne5,Bxe5,Bxe5,Rad1,c6,Bc2,d5,Nc5,Bc8,Rhe1,f6,Nge6,Qd6,Nxf8,Kxf8,Nd3,Bh2,f4,Bxf4,Nxf4,Qxf4,Rd4', 'Bh3+,Kxh3,Qf3+,Kh2,Qf2+', 'https://lichess.org/training/qD4jd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qd66V', 'Rapid', 'siyoha', 1795, 'Francisco77732016', 1716, 'd4,g6,c4,Bg7,e4,d6,Nc3,e5,d5,Nf6,Nf3,O-O,Be2,Nbd7,b4,a5,b5,Nc5,Bd3,Nxd3+,Qxd3,b6,O-O,Qd7,Ba3,Qg4,Nxe5,dxe5,Bxf8,Bxf8,Rae1,Nh5,Ne2,Bb4,Rd1,Qg5,h3,f5,f4,exf4,d6,cxd6', 'Qd5+,Be6,Qxa8+', 'https://lichess.org/training/Qd66V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qD8ES', 'Blitz', 'Kaizendless', 1700, 'BestForever', 1687, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bb4,Bd3,Nc6,Bd2,O-O,O-O,Bd7,a3,Bd6,Re1,a6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be7,Qf3,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Rxe4,Qd6,Qh5,Rfe8,Rae1,Nxd4,Rxe8+,Rxe8', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/qD8ES');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qd93h', 'Rapid', 'myodor', 1806, 'Diagonalle', 1888, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,g6,c3,Bg7,Re1,O-O,d3,d6,Nbd2,f5,exf5,Bxf5,Ne4,a6,Ba4,Bg4,Bb3+,Kh8,Neg5,Rf6,Nf7+,Rxf7,Bxf7,Qf8,h3,Qxf7,hxg4,Qe6,Qb3,Qxg4,Qxb7,Rf8,Ng5,h6,Ne4,d5,Nc5,Qh4,g3,Qg4,Qxc7,h5,Nd7,Rf3,Nxe5,Bxe5,Rxe5,Nxe5,Qxe5+,Kg8,Qxe7,Rf7,Qe8+,Rf8,Qe1,h4,Kf1,h3,Kg1,Qf3,Qf1,Rf5,Qxh3,Qxf2+,Kh1,Qe1+,Kh2,Rf2+,Qg2,Rxg2+,Kxg2,Qe2+,Kg1,Qe1+,Kg2,Qe2+,Kg1,Qxd3,Bf4,Qc2,Re1,Qxb2,Re6,Qxc3,Rxg6+,Kf7,Rxa6,d4,Rd6,d3,a4,Qe1+,Kh2,Qf2+,Kh3,Qf1+,Kh4,Qd1,a5,Qc2,a6,Qc8,a7,Qb7', 'Rd7+,Qxd7,a8=Q', 'https://lichess.org/training/qd93h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qda5U', 'Blitz', 'korgasmatron', 2253, 'NM Abranswe77', 2296, 'Nc3,d5,e4,d4,Nce2,e5,Ng3,c5,Bc4,Nf6,Nf3,Be7,Nxe5,O-O,O-O,Bd6,f4,Bxe5,fxe5,Ng4,e6,Ne5,exf7+,Kh8,d3,Nxc4,dxc4,Be6,b3,Nc6,Bf4,Rxf7,Qh5,Qe7,Bd6', 'Rxf1+,Rxf1,Qxd6', 'https://lichess.org/training/Qda5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QDaJF', 'Classical', 'sangour', 1756, 'janzupancic', 1796, 'e4,c5,d4,cxd4,c3,dxc3,Bd3,cxb2,Bxb2,e6,Nf3,Be7,Bxg7,Bf6,Bxh8,Bxh8,e5,Qa5+,Nbd2,Bxe5,Nxe5,Qxe5+,Be2,b6,O-O,Bb7,Nf3,Qg7,Qd6,Na6,Rad1,Nc5,g3,Nf6,Ne5,Nfe4,Qc7', 'Rc8,Qxb7,Nxb7', 'https://lichess.org/training/QDaJF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDayH', 'Classical', 'vijaybunny141', 1842, 'ZGR8HEFF', 1853, 'e4,c5,d3,Nc6,Nf3,d6,c4,g6,Nc3,Bg7,Be3,Nf6,d4,cxd4,Nxd4,O-O,Be2,a6,O-O,Bd7,Rc1,Rc8,b3,Ne5,h3,e6,Bg5,Qa5,Nf3', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/qDayH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDDFO', 'Rapid', 'AmuntSempreVCF', 1876, 'chileno1926', 1631, 'd4,d5,c4,Nf6,Nc3,c5,e3,cxd4,exd4,dxc4,Bxc4,e6,a3,Nc6,Nge2,Be7,O-O,a6,Ba2,Qc7,Bf4,Bd6,Bxd6,Qxd6,Re1,Ng4,g3,h5,Ne4,Qc7,Rc1,h4,N2c3,f5,Ng5,hxg3,hxg3,Bd7,Nxe6,Qd6,Nxg7+,Kd8,Ne6+,Kc8,Nd5,Kb8,Nb6,Ra7,Nxd7+,Qxd7,Nc5,Qh7,Kg2', 'Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/qDDFO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QdEgo', 'Rapid', 'mxklawz', 1812, 'metinbilici-07', 1804, 'd4,g6,c4,Bg7,Nc3,c6,e4,d6,Nf3,Qb6,h3,Be6,b3,Na6,Na4,Qc7,Bb2,Nh6,Ng5,Qd7,Qd2,O-O,d5,cxd5,cxd5,b5,Bxg7,Kxg7,dxe6,fxe6,Qd4+,e5,Qd5,Nb4,Qd2,bxa4,Qxb4,axb3,Qxb3,Rab8,Qe6,Qc7,Qc4,Qb6,Ne6+,Kh8,Nxf8,Rxf8,Qb5', 'Qxf2+,Kd1,Qd4+', 'https://lichess.org/training/QdEgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qdFm3', 'Rapid', 'warsonwren', 2235, 'ydur28', 2219, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,cxd4,cxd4,Bb4+,Nc3,Nge7,O-O,Nf5,Bg5,Qb6,Na4,Qa5,b3,Ba3,Bd3,Nfxd4,Nxd4,Nxd4,Bd2,Qc7,Bc1,Bxc1,Rxc1,Qxe5,Nc5,Bc6,Re1,Qf6,Bf1,O-O,Nd3,Rac8,Ne5,Nf5,Nxc6,Rxc6,Rxc6,bxc6,b4,Nd6,a4,Rb8,Qc2,Rc8,Ba6,Rc7,Rb1,Qe7,b5,cxb5,Qb3,Nc4,Qxb5,g6,Qb8+,Kg7,g3,Nd2', 'Qb2+,e5,Qxd2', 'https://lichess.org/training/qdFm3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDgtX', 'Rapid', 'abracadabra38', 1735, 'ValeraAdvokat', 1781, 'b3,e5,Bb2,Qf6,e3,Bc5,f4,Qh4+,g3,Qe7,Bxe5,f6,Bxc7,Na6,Ba5,Bb4,Bxb4,Nxb4,Bc4,Qe4,Nf3,Nxc2+,Ke2,Nxa1,Nc3,Qc2,Qxa1,Qg6,Bd3,Qf7,Ne4,Qe7,Qc3,d6,Nd4,Bg4+,Kf2,Nh6,Bc4,Qxe4,Bb5+,Kd8,Rc1,Rc8,Qa5+,Ke7,Rc7+,Kf8,Rxc8+,Bxc8,Qd8+,Kf7,Qc7+,Qe7', 'Bc4+,d5,Bxd5+,Be6,Bxe6+', 'https://lichess.org/training/qDgtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDhhc', 'Rapid', 'jadralec99', 1841, 'Kelo71', 1831, 'b3,Nf6,Bb2,g6,e4,Bg7,Nf3,d6,Nc3,O-O,Be2,e5,d4,exd4,Nxd4,Nbd7,O-O,Re8,Bd3,b6', 'Nc6,Bb7,Nxd8', 'https://lichess.org/training/qDhhc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QdHvn', 'Rapid', 'davidcancer', 2070, 'lorenabmb', 2060, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,O-O,O-O,Nc3,d6,a4,Bb7,axb5,axb5,Rxa8,Qxa8,Nxb5,Qc8,Bd2,Ba6,Nc3,Na5,Nd5,Nxd5,Bxd5,Nb7,Qa1,Bb5,Qa7,Nc5,Ra1,Bf6,b4,Ne6,c4,Bd7,b5,Nc5,Ra3,g6,Be3,Ne6,Bh6,Bg7,Bxg7,Nxg7,Qe3,Qd8,Ra8,Qe7,Rxf8+,Qxf8,Qh6,Nh5,Qxf8+,Kxf8,Ng5,f6,Ne6+,Bxe6,Bxe6,Nf4,Bd5,Nxd3,g3,Ke7,h4,Kd8,h5,gxh5,Kg2,Kc8,Bf7,Kb7,Bxh5,Kb6,Bf7,Kc5,Bg8,h6,Kf3,Kd4,Bd5,Nb4,Be6,Kd3,g4,Kd4,Bf7,Nd3,Bg8,Nf4,Bf7,Nd3,Bd5,Nb2,Kg3,Nxc4,f4,exf4+,Kxf4,Ne3,Bc6,Kd3,Kg3,Ke2,Kh4,Kf2,Kh5,Kg3,Kxh6,Nxg4+,Kg6,Kf4,Kf7,Ke5,Ke7,Nf2,Kd7,Nxe4', 'Bxe4,Kxe4,Kxc7', 'https://lichess.org/training/QdHvn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qdiUW', 'Rapid', 'jobaychess', 1858, 'horsehead', 2055, 'b4,e5,Bb2,d6,b5,f5,e3,Nf6,Be2,Be7,Bh5+,Nxh5,Qxh5+,g6,Qf3,O-O,Qd5+,Kg7,h4,c6,bxc6,Nxc6,h5,Nb4,Qb3,Nc6,hxg6,hxg6,Nf3,Rh8,Rg1,Bf6,Nc3,Qg8,Qa3,e4,Nd4,Nxd4,exd4,d5,Nb5,Bd7,Nd6,b6,c4,dxc4,Rc1,b5,Nb7,Qf8,Qa6,Bc8,Qc6,Bxb7,Qxb7+,Qf7,Qa6,Rab8,g4,f4,g5,Bd8,d5+,Kg8,Bxh8,Kxh8,Rh1+,Kg8,Qe6,Qxe6,dxe6,Rb6,Rb1,a6,a4,Rxe6,axb5,Rb6,Rh4,Bxg5,Rg4,Bh6,Ke2,f3+,Ke1,axb5,Rxe4,Kf7,Rxc4', 'Re6+,Kd1,bxc4', 'https://lichess.org/training/qdiUW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qdJcB', 'Rapid', 'cortland', 1764, 'churcas', 1608, 'Nf3,c5,c4,Nc6,a3,d5,e3,Bg4,Be2,dxc4,Bxc4,e6,h3,Bh5,g4,Bg6,Nc3,Bd6,Bb5,a6,Bxc6+,bxc6,Qa4,Qb6,Nh4,Nf6,Nxg6,hxg6,d3,Nxg4,Qxg4,Kd7,Qf3,f5,Qg2,Raf8,Qxg6,Be5,Qg2,c4,d4,Bf6,Na4,Qb5,Nc5+,Ke7,a4,Qb4+,Bd2,Qxb2,Rb1,Qxb1+,Ke2,Qb6,a5,Qb5,Ke1,Qb1+,Ke2,Qb5,Rc1,c3+,Ke1,cxd2+,Kxd2,Qb2+,Kd1,Rc8,Qf1,Qa2,Qxa6,Qxf2', 'Qb7+,Kf8,Qxc8+', 'https://lichess.org/training/qdJcB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QdjIx', 'Rapid', 'leukamia', 1687, 'Miekri', 1738, 'e4,d5,Nf3,dxe4,Ng5,e6,Nxe4,Nf6,Nbc3,Bb4,a3,Bxc3,Nxc3,O-O,d4,Nc6,Bg5,Qxd4,Bd3,Nd5,Qh5,g6,Qd1,Nxc3,bxc3,Qe5+,Be3,Qxc3+,Bd2,Qe5+,Be3,Rd8,O-O,b6,Re1,Qf6,Qd2,Bb7,Bg5,Qg7,Bxd8,Rxd8,h3,e5,Qg5,h6,Qe3,Nd4,Qxe5,Qxe5,Rxe5,Nc6,Re3,Kg7,Rae1,a5,Rg3,Nd4,Re7,Bc8,Rxg6+', 'Kf8,Rxc7,fxg6', 'https://lichess.org/training/QdjIx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qdk3T', 'Rapid', 'Iceberg_1', 1879, 'Gambitogambito', 1903, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,c3,d6,O-O,Be7,a4,O-O,Re1,Bg4,Nbd2,d5,exd5,Nxd5,h3,Bh5,Ne4,Nf4,Ng3,Bg6,d4,Bf6,a5,Nh5,d5,Ne7,Nxe5,Nxg3,Nxg6,Nxg6,fxg3,Qd6,g4', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/qdk3T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QDLNH', 'Rapid', 'ASzilagyi', 2052, 'sasha_riv', 2020, 'd4,c6,c4,d5,Nf3,Bf5,e3,e6,Bd3,Bxd3,Qxd3,dxc4,Qxc4,Nf6,O-O,Be7,Nc3,O-O,b3,Nbd7,Bb2,Nb6,Qd3,Nbd5,Rac1,Nxc3,Qxc3,Nd5,Qd2,Bb4,Qe2,Qa5,a4,Rac8,Ne5,f6,Nc4,Qa6,Qg4,f5,Qh5,b5,axb5,cxb5,Ra1,Qc6,Na3,Bxa3,Bxa3,b4,Rfc1,Qb5,Bb2,Qd3,Qd1,Rxc1,Rxc1,Qxd1+,Rxd1,Rc8,Rc1,Rxc1+,Bxc1,Nc3,Bd2,a5,Kf1,Nb1,Ke2,Kf7,Bc1,Ke7,Bb2,Na3,Kd3,Kd6,h4,g6,f3,Kd5,g3,h5,e4+,fxe4+,fxe4+,Kc6,Bc1,Nb5,Bb2,Nd6,Ba1,Kb5,Bb2,a4,bxa4+,Kxa4,e5,Nf5,d5,exd5,e6,Kb3', 'Bf6,Ka3,e7', 'https://lichess.org/training/QDLNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDM6U', 'Blitz', 'improvingpieces', 2580, 'GM Pap-G', 2580, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,a6,b3,Bb4,Bd2,Nbd7,Qc2,O-O,Bd3,Qe7,O-O,Rd8,Rad1,h6,Ne2,Bd6,Ng3,b6,Bc3,Bb7,Ne5,c5,f4,Rac8,f5,cxd4,exd4,Nxe5,dxe5,Bc5+,Kh1,Ng4,f6,Qc7,Bh7+,Kh8,fxg7+,Kxg7,Nh5+,Kh8,Nf6,Ne3,Qe2,d4,Be4,Bxe4,Nxe4,Qxe5,Qxe3,Qg7,Nxc5,bxc5,Qd2,dxc3,Qxd8+,Rxd8,Rxd8+,Kh7,Rd7,c2', 'Rdxf7,Qxf7,Rxf7+,Kg6,Rf1', 'https://lichess.org/training/qDM6U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QDMwF', 'Blitz', 'pablomagno', 1953, 'cepn', 1943, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bc5,c3,O-O,f3,Bxd4,cxd4,Ng5,Bxc6,bxc6,O-O,Ba6,Re1,Ne6,Be3,f6,exf6,Qxf6,Nc3,Nf4,Bxf4,Qxf4,Qc1,Qxd4+,Kh1,Rae8,Rxe8,Rxe8,Qg5,Qf2,h3,h6,Qg6,Re1+,Rxe1,Qxe1+,Kh2,Qe5+,Kg1,Qd4+,Kh2,Bd3,Qxc6,Qe5+,Kg1,Bc4,Qa8+,Kh7,Qxa7,c6,Qf2,d4,Ne4,Bxa2,Qc2,Bd5', 'Nf6+,Kh8,Qh7#', 'https://lichess.org/training/QDMwF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QDmxW', 'Rapid', 'smiffy97', 1860, 'Jbarone', 1899, 'Nf3,c5,c4,Nc6,g3,Nf6,Bg2,d6,O-O,e6,Nc3,Be7,b3,O-O,Bb2,a6,Qc2,Bd7,a3,h6,Rad1,Rb8,d4,cxd4,Nxd4,Nxd4,Rxd4,Qb6,Rdd1,Bc6,Rfe1,Bxg2,Kxg2,Qc6+,f3,Rfd8,e4,b5,cxb5,axb5,b4,Rbc8,Rc1,Nh7,Qe2,Qc4,Qxc4,bxc4,Rc2,Bf6,Rec1,Bxc3,Rxc3,d5,exd5,exd5,R1c2,Ng5,Bc1,Ne6,Kf2,Nd4,Rd2,Nb3,Rdc2,Nd4,Rd2,Nb5,Re3,d4,Re4,f5,Re5,c3,Rd3,Nc7,Rxf5,Ne6,Re5,Kf7,Re4,Rc7,Bf4,Rcd7,a4,Rb7,b5,Nc5,Rdxd4,Rxd4,Rxd4,c2,Rc4,Nd3+,Ke3,c1=Q+,Rxc1,Nxc1,Kd4,Nb3+,Kc4,Na1,Kc3,Ke8,Kb2,Ra7,Kxa1,Rxa4+,Kb2,Rb4+,Kc3,Rxb5,Kc4,Rb2,Be5,Rxh2,Bxg7,h5,Bf6,Kd7,Bh4,Re2,Kd3,Re6,f4,Kd6,Kd4,Kd7,Kd5,Re2,Kd4,Ke8,Kd5,Kf7,Kd4,Kg6,Kd3,Re8,Kd4,Kf5,Kd3,Kg4,Kd2,Re4,Kd3,Re1,Kd2,Re8,Kd3,Rg8,Kd2,Kf5,Ke2,Rg4,Kf3,Rg8,Kg2,Kg4,Kf2,Ra8,Ke3,Ra3+,Kf2,Ra2+,Ke3,Rh2,Ke4,Re2+,Kd3,Re1,Kd2,Rh1,Ke3,Re1+,Kf2,Rh1,Ke3,Kf5,Kf3,Rh3,Kf2,Kg4,Kg2,Rxh4,gxh4,Kxh4', 'Kf3,Kh3,f5', 'https://lichess.org/training/QDmxW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QDneu', 'Rapid', 'A_Tack', 2171, 'kou13', 2054, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,b6,Qxb6,Nc3,e6,e4,d6,Nf3,exd5,Nxd5,Nxd5,Qxd5,Bb7,Qf5,Nd7,Bc4,Nf6,Ng5', 'Qb4+,Bd2,Qxc4', 'https://lichess.org/training/QDneu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDnhJ', 'Blitz', 'IS_01', 2418, 'FM eksponat777', 2477, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,g6,Bf4,Bg7,e3,O-O,h3,Ne4,Nxe4,dxe4,Nd2,c5,Be5,cxd4,Bxg7,Kxg7,Nxe4,dxe3,fxe3,Qa5+,Qd2,Qxd2+,Kxd2,Rd8+,Kc3,Nc6,Be2,Bf5,Ng3,Be6,Rad1,Ne5,b3,f5,Bf3,Rab8,a4,b6,Ne2,Kf6,Nf4,Bf7,Rhf1,Nd7,Nd3,Nc5,Nxc5,bxc5,g4,e5,gxf5,gxf5,Be4', 'Rxd1,Rxd1,fxe4', 'https://lichess.org/training/qDnhJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDO6z', 'Classical', 'JavyLmtz', 1807, 'Jacobzane', 1860, 'd4,Nf6,c4,e5,dxe5,Ng4,e4,Nxe5,Nf3,Nbc6,Be2,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O,d6,a3,Bg4', 'Nxe5,Bxe2,Nxc6,Bxd1,Nxd8', 'https://lichess.org/training/qDO6z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QdOWF', 'Classical', 'kkot1975', 1851, 'strong_Tactics', 1900, 'e4,c5,c4,Nc6,Nc3,Nf6,Nf3,e6,d4,cxd4,Nxd4,d5,cxd5,exd5,exd5,Nxd5,Bb5,Nxc3,bxc3,Bd7,O-O,Be7,Bxc6,bxc6,Bf4,O-O,h3,Bf6,Qc2,g6,Rad1,Qc8,Rfe1,c5,Nf3,Bf5,Qb3,c4,Qb4,a5,Qa3,a4,Nd4,Bxd4,Rxd4,Bd3,Qd6,Ra6,Qd5,Re6,Be3,Rfe8,Qg5,Kg7,Qh6+,Kg8,Rh4,g5,Qxg5+,Rg6,Qf4,Qc6,g3,Qb7,Bd2', 'Rxe1+,Bxe1,Qb1', 'https://lichess.org/training/QdOWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QdP8S', 'Blitz', 'IM ChessExplained', 2489, 'mkaan33', 2348, 'c4,g6,g3,Bg7,Bg2,Nf6,Nc3,O-O,d3,e5,Rb1,Nc6,b4,d6,b5,Nd4,e3,Ne6,Nge2,h5,h4,Ng4,O-O,f5,d4,e4,Nf4,Nxf4,exf4,a6,a4,axb5,axb5,c6,bxc6,bxc6,Rb3,Ba6,d5,Bxc4,dxc6,Bxf1,Bxf1,Bxc3,Rxc3,d5,Rc5,d4,Bc4+,Kh7,Rd5,Qb6,Rd7+,Kh6,Rxd4,Qxc6,Bd5,Qb6,Bxa8,Rxa8,Be3,Nxe3,fxe3,Qb2,Rd2,Qc3,Qe2,Ra3,Kf2,Ra1,Rd1,Ra3,Rd2,Rb3,Rc2,Qa1,Qd2,Rd3,Qb4,Rd1,Qf8+,Qg7,Qxg7+,Kxg7,Re2,Ra1,Rc2,Kh6,Re2,Ra3,Re1,Kg7,Re2,Kf6,Rd2,Ke6,Ke2,Ra5,Rc2,Rd5,Rd2,Kd6,Rxd5+,Kxd5,Kd2,Kc5,Kc3,Kd5,Kb4,Kd6,Kc4,Kc6,Kd4,Kb5,Ke5', 'Kc4,Kf6,Kd3,Kxg6,Kxe3', 'https://lichess.org/training/QdP8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qdpJk', 'Rapid', 'SSEJPM', 1704, 'DucanNguyen', 1709, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Qf6,Be3,Nge7,Qd2,d6,Nxc6,Bxe3,Qxe3,Nxc6,Bc4,Be6,Bb5,Bd7,Ba4,Ne5,Bc2,Ng4,Qd4,Qf4,Nd2,c5,g3,cxd4,gxf4,dxc3,bxc3,Rc8,c4,O-O,f5,b5,Bb3,bxc4,Bxc4,Ne5,Be2,Rc2,f4,Nc6,Nb3,Rc8,Kf2,g6,fxg6,fxg6,Rhg1,a5,a4,Rb8,Rac1,Rxe2+,Kxe2,Rxb3,f5,Kg7,Rcd1,Ne5,Rxd6,Rb2+,Kf1,Rb1+,Kg2,Rxg1+,Kxg1,Bxa4,f6+,Kf7,Ra6,Nc6,e5,Bb5,Rb6,Ba4', 'Rb7+,Ke6,f7', 'https://lichess.org/training/qdpJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDqAo', 'Rapid', 'koki1973', 1645, 'orionchess', 1761, 'e4,e5,Bc4,Nf6,d3,h6,h3,Nc6,a3,Bc5,Nc3,d6,Qf3,O-O,Nge2,Nd4,Nxd4,Bxd4,Bd2,Qe8,O-O-O,Be6,Bxe6,Qxe6,Kb1,c6,Qg3,Kh8,f4,exf4,Bxf4,Bxc3,bxc3,Nh5,Qh4,Nxf4,Qxf4,Qe5,Qxe5,dxe5,g4,f6,h4,Kg8,c4,c5,a4,b6,Kb2,Kf7,Rdf1,Ke6,Kb3,a5,Rf3,Ke7,Rhf1,g5,h5,Ke6,Kc3,Rad8,Kd2,Rd4,Rf5,Rdd8,Ke3,Rd4,Rd1,Rdd8,c3,Ke7,d4,exd4+,cxd4,cxd4+,Rxd4,Rxd4,Kxd4,Rd8+,Rd5,Rc8,c5,bxc5+,Rxc5,Ra8,Kc4,Kd6,Rf5,Ke6,Kb5,Rb8+,Kxa5,Rb1,Ka6,Rb4,a5,Rxe4,Kb6,Rb4+', 'Rb5,Rxg4,a6', 'https://lichess.org/training/qDqAo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qdqIH', 'Rapid', 'Butron', 1807, 'nukyjogjazz', 1923, 'd4,e6,a3,f5,Nc3,d5,Nf3,Nf6,h3,Bd6,Bg5,c6,e3,O-O,Ne5,Qe7,Bd3,Nbd7,f4,Qe8,g4,Bxe5,fxe5,Ne4,Bxe4,fxe4,Qe2,Qg6,Bf4,b5,h4,a5,h5,Qf7,g5,Qe8,Qg4,Ba6,h6,g6,Nd1,Nb6,Nf2,Nc4,b3,Nb6,b4,a4,Qg3,Ra7,Ng4,Nd7,Nf6+,Nxf6,exf6,Bc8,Rf1,Qd8,Bd6,Rff7,c3,Rad7,Bc5,Qe8,O-O-O,Bb7,Rf2,Bc8,Rdf1,Rb7,Qe5,Rbd7,Be7,Rb7,Qd6,Ra7,Qc5,Rb7,Kc2,Rd7,Kb2,Rb7,Qd6,Ra7,Qb8,Rb7,Qd6,Ra7,Rf4,Rb7,Qc5,Rd7,Bd6,Rb7,Be5,Qd7,Bd6,Qe8,Be5,Qd7,Qd6,Qxd6,Bxd6,Rbd7,Bc5,Bb7,R4f2,Bc8,Rg1,Rb7,Rf4,Rbd7,Rc1,Rb7,Kc2,Rbd7,Kd2,Rb7,Ke2,Rbd7,Kf2,Rb7,Kg3,Rbd7,Rcf1,Rb7,R4f2,Rbd7,Kf4,Bb7,Ke5,Bc8,Kxe6', 'Rde7+,Kd6,Re6#', 'https://lichess.org/training/qdqIH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QDqkj', 'Blitz', 'sakkmester11', 2126, 'baddaks', 2351, 'Nf3,Nf6,c4,e6,g3,d5,Bg2,Be7,O-O,O-O,b3,a6,Bb2,dxc4,bxc4,Nfd7,d4,Nc6,d5,Na5,Qa4,Bf6,Bxf6,Qxf6,Nbd2,Qc3,dxe6,Nc5,exf7+,Kh8,Qd1,Qf6,Qc2,Bf5,e4,Bg4,e5,Qe7,h4,h6,Rfe1,Be6,Nd4,Rxf7,Qc3,Nc6,Nxc6,bxc6,Bxc6,Raf8,f4,g5,hxg5,hxg5,Kg2,gxf4,Rh1+,Rh7,Rxh7+,Kxh7,Rh1+,Kg7,gxf4,Rxf4,Bf3,Bf5,Qe3,Nd3,Bd1,Qg5+,Qg3', 'Rf2+,Kg1,Qxg3#', 'https://lichess.org/training/QDqkj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QdQzR', 'Rapid', 'ERB', 1655, 'HappilyNumb', 1912, 'e4,e6,Nf3,c5,d4,Nc6,Be3,Nf6,Nc3,cxd4,Nxd4,d5,exd5,Nxd5,Nxd5,Qxd5,Bd3,Nxd4,Bxd4,Bd7,c3,Qxg2,Rf1,Qxh2,Qf3,Bc6,Be4,Rc8,Bxc6+,Rxc6,Bxa7,Qe5+,Be3,Bc5,O-O-O,Bxe3+,fxe3,O-O', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/QdQzR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QdRe6', 'Classical', 'amr0diab', 1778, 'ludo72', 1850, 'c4,b6,Nc3,Bb7,d3,e6,e3,Bb4,Qc2,Nf6,a3,Be7,e4,h6,Nf3,O-O,Be2,d6,Be3,c5,O-O,a6,d4,cxd4,Nxd4,e5,Nf5,Nc6,Qd2,Bc8,Bxh6,Bxf5,Bxg7,Nxe4', 'Qh6,Bh7,Nxe4', 'https://lichess.org/training/QdRe6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QdrVj', 'Rapid', 'kpiraee', 2085, 'phenixa', 2040, 'e4,c5,Bc4,e6,c3,Nc6,Nf3,a6,O-O,b5,Bb3,Bb7,d4,cxd4,cxd4,Na5,d5,Nxb3,Qxb3,Rc8,Nc3,Be7,Bf4,Nf6,Rad1,Bc5,Bg5,h6,Bh4,g5,Bg3,O-O,Ne5,Nh5,Nxf7,Rxf7', 'dxe6,dxe6,Rxd8+', 'https://lichess.org/training/QdrVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QdTDJ', 'Classical', 'cubblue', 1990, 'railroadman', 1762, 'e4,e5,Nf3,Nc6,Bb5,f5,O-O,fxe4,Bxc6,dxc6,Nxe5,Qd4,Qh5+,g6,Nxg6,hxg6,Qxg6+,Kd8,Re1,Ne7,Qxe4,Qxe4,Rxe4,Bf5,Rd4+,Ke8,d3,Bg7,Rb4,Be5,f4,Bd6,Rxb7,Bc5+,Kh1,Nd5,Rb3,Kd7,Nc3,Rab8,Bd2,Rxb3,axb3,Bd6,Rf1,Re8,g3,Nxc3,Bxc3,Re2,Kg1,Rxc2,Rf2,Rxf2,Kxf2,Bxd3,Ke3,Bf5,b4,Bh3,Kf3,Ke6,g4,Be7,Kg3,Bf1,h4,Kf7,f5,Bd6+,Kf3,Bh3,h5,Be7,Kg3,Bf1,Bd2,Bf6,Kf4,Bxb2,g5,Bd3,h6,Bd4,g6+,Kg8,Kg5,Be5,Be3,a6,Bc5,Bc3,Be7,Bd2+,Kh5,Bxf5', 'h7+,Kg7,Bf6+,Kxf6,h8=Q+', 'https://lichess.org/training/QdTDJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDtes', 'Classical', 'RocknRoll88', 1808, 'chesspro2004', 1862, 'Nf3,c5,c3,Nc6,d4,cxd4,cxd4,d5,Bf4,Nf6,e3,Nh5,Bg3,Nxg3,hxg3,e6,Bb5,Bb4+,Nc3,Qa5,Bxc6+,bxc6,Qb3,Ba6,a3,Bc4', 'Qxb4,Qxb4,axb4', 'https://lichess.org/training/qDtes');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDtuW', 'Classical', 'Euler-1707', 1797, 'caliche5134', 1796, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Ne5,Nc3,Nf6,f4,Ng6,Be3,Bb4,Bd3,Bxc3+,bxc3,O-O,O-O,d6,Rb1,Rb8,Nc6,bxc6,Rxb8,Qd7,Qe2,Re8,f5,Ne5,Ba6,Nxe4,Bxc8,Rxc8,Rxc8+,Qxc8,Bd4,Nf6,Bxe5,dxe5,Qxe5,Qd7,Qa5,h6,Qxa7,Nd5,Qd4,Qe7,a4,Qa3,c4,Qxa4,Ra1,Qb4,Ra8+,Kh7,c3,Qb1+,Kf2,Qc2+,Kf3,Nxc3,f6', 'Qe2+,Kg3,Ne4+,Qxe4+,Qxe4', 'https://lichess.org/training/qDtuW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QDU92', 'Rapid', 'AnatolyDesee', 2004, 'Themistoklisk82', 2041, 'd4,b6,e4,Bb7,Nc3,e6,Nf3,Bb4,Bd2,Bxc3,Bxc3,Bxe4,Qd2,Bxf3,gxf3,Nf6,O-O-O,Nc6,h4,h6,Rg1,Rg8,Re1,d5,Bb5,Qd7,a4,a6,Bd3,b5,f4,Qd6,f5,b4,fxe6,bxc3,Qxc3,Ne4,Bxe4,dxe4,exf7+,Kxf7,Rxe4,Qf6,Qc4+,Kf8,d5,Ne5,Qxc7,Re8,Qc5+,Kf7,d6', 'Nd3+,cxd3,Rc8,Qc7+,Rxc7+', 'https://lichess.org/training/QDU92');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDuBY', 'Classical', 'Kahju', 2050, 'sid1711', 2032, 'Nf3,Nc6,d4,d5,c4,Nf6,g3,Bg4,Bg2,Bxf3,Bxf3,dxc4,Qa4,Qd7,e3,e6,Qxc4,Na5,Qc2,Nd5,Bd2,Nc6,a3,O-O-O,Nc3,Nxc3,Bxc3,f5,O-O,Kb8,b4,Ne7,d5,Nxd5,Bd4,Rg8,Rfc1,c6,Qa4,a6,Qb3,g5,a4,g4,Bg2,Bxb4', 'Bxd5,exd5,Qxb4', 'https://lichess.org/training/qDuBY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QDUeM', 'Blitz', 'bavaresco2001', 1889, 'thekop_27', 1839, 'd4,d5,c4,e5,cxd5,Qxd5,e3,Nc6,Nc3,Bb4,Bd2,Qd6,Nb5,Bxd2+,Qxd2,Qe7,d5,Nb8,d6,cxd6,Nxd6+,Kd7,Nf5+,Ke6,Nxe7,Nxe7,Bc4+,Kf6,e4,Nbc6,h4,h6,g4,Rd8,g5+,Kg6,h5+,Kh7,Qe3,Nd4,Rc1,Bg4,f3,Be6,Bxe6,Nxe6,gxh6,gxh6,Ne2,Nc6,f4,f6,fxe5,fxe5,O-O,Rg8+,Kh1,Rg7,Ng3,Rag8,Nf5,Rg5,Rxc6', 'Rxh5+,Nh4,Rxh4+,Qh3,Rxh3#', 'https://lichess.org/training/QDUeM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qdUgA', 'Blitz', 'FM CoachRoelAbelgas', 2448, 'FM Sander_Severino', 2538, 'd4,Nf6,Nf3,d5,c4,e6,Nc3,Bb4,Bg5,O-O,Rc1,h6,Bh4,dxc4,e3,c5,Bxc4,Nc6,O-O,cxd4,exd4,Be7,Re1,Bd7,Bxf6,Bxf6,d5,exd5,Bxd5,Rc8,a3,Bf5,Qb3,Na5,Qa2,a6,Red1,Qe7,h3,b5,Re1,Qa7,Ne4,Bxe4,Bxe4,Nc4,b3,Nd6,Bd5,Rc5,b4,Rxc1,Rxc1,g6,Qc2,Kg7,Qc6', 'Rc8,Qxc8,Nxc8', 'https://lichess.org/training/qdUgA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QduPr', 'Rapid', 'igorchessc84', 1784, 'yiotoo', 1769, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nc6,Bb5,Bd7,O-O,Nf6,Bxc6,bxc6,f4,Bg4,Qe1,c5,Nf3,Qb6,Rb1,O-O,e5,Bxf3,exf6,Bxf6,Rxf3,a5,Nd5,Qb5,Nxf6+,exf6,Qh4,f5,Rh3,h5,Qg5,Rae8,Qh6,Qe2,b3', 'Rxe3,Qxf8+,Kxf8', 'https://lichess.org/training/QduPr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QdvrZ', 'Rapid', 'budakbidak', 2151, 'LastManStanding33', 2264, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Nc3,Bd6,Bd3,O-O,h3,Re8+,Be3,c5,O-O,c4,Be2,Nc6,b3,Bb4,Na4,b5,Nc5,Bf5,a3,Bc3,Rb1,Ne4,bxc4,bxc4,Nxe4,Bxe4,Ng5,Bg6,Bh5,Rxe3,Nxf7,Bxf7,Bxf7+,Kxf7,fxe3+,Kg8,Qf3,Qd7,Rb5,Rd8,Rfb1,Qf7,Qg3,h6,Rb7,Rd7,Rxd7,Qxd7,Rf1,Ba5,Qf3,Bd8', 'Qf8+,Kh7,Rf7,Qxf7,Qxf7', 'https://lichess.org/training/QdvrZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qdWau', 'Blitz', 'koblenz88', 2139, 'drshabir', 2189, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Bg5,c5,d5,h6,Be3,e6,f4,exd5,cxd5,Re8,Bf3,b5,Qc2,b4,Nd1,a5,Ne2,Ba6,O-O,Nbd7,Nf2,Rc8,Bd2,Nb6,a3,Bb5,axb4,cxb4,Qd1,Nc4,Ra2,Qb6,b3,Nxd2,Qxd2,Nxe4,Bxe4,Rxe4,Ng3,Rd4,Qe3,Bxf1,Nxf1,Rc1,Qxc1,Rxd5,Kh1,Bc3,Qe3,Qb5,Ng3,h5,h4,Kg7,f5,Bd4,Qf3,Bf6,fxg6,fxg6,Qf4,Qc5,Nfe4,Rd1+,Kh2,Be5,Qg5', 'Qg1+,Kh3,Qh1+,Nxh1,Rxh1#', 'https://lichess.org/training/qdWau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qdWBt', 'Rapid', 'samvel53', 1814, 'erto2000', 1769, 'e4,c5,Nf3,d6,Bc4,a6,a3,Nf6,d3,e6,O-O,Nc6,Re1,Be7,e5,dxe5,Nxe5,Nxe5,Rxe5,Qd4,Qe2,Bd6,c3', 'Qxe5,Qxe5,Bxe5', 'https://lichess.org/training/qdWBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDYhk', 'Classical', 'olegkov', 1627, 'AT1391', 1657, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,O-O,Be7,Re1,O-O,h4,c5,Qd3,a6,Qg3,h6,Bxh6,Nh5,Qg6,Bf6,Nc3,Be6,Bxe6,fxe6,Qxh5,gxh6,Qg4+,Kh7,Qxe6,Bxh4,g3,Rf6,Qg4,Bg5,f4,Bxf4,gxf4', 'Rg6,Qxg6+,Kxg6', 'https://lichess.org/training/qDYhk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qDYPE', 'Rapid', 'alexbermon', 1994, 'chanafi', 1934, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,d6,Re1,Be7,Nxd4,Nxd4,Qxd4,O-O,Nc3,Re8,Bg5,a6,Rad1,b5,Bb3,Bb7,f3,Qd7,Bxf6,Bxf6,Qd2,Rad8,Nd5,Bxb2,c4,Ba3,cxb5,Bc5+,Kh1,axb5,g4,c6,Ne3,g6,h4,Qe7,h5,Qh4+,Kg2,d5,exd5,Bd6,Qf2,Qh2+,Kf1,Qh1+,Ke2,Rxe3+,Qxe3,Qg2+,Qf2', 'Re8+,Kd3,Qxf2', 'https://lichess.org/training/qDYPE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qe0Dx', 'Blitz', 'zooorg', 1746, 'ElGuAyAbAs', 1807, 'e4,c6,Nf3,d5,exd5,cxd5,d4,a6,h3,Bf5,Bd3,Bxd3,Qxd3,Nf6,O-O,Nc6,Bg5,e6,c3,Be7,Nbd2,O-O,Rad1,h6,Bh4,Nh7,Bxe7,Qxe7,Rfe1,Rae8,Nb3,Nf6,Nc5,Na5,b3,Nd7,b4,Nxc5,bxc5,Nc4,Rb1,Rb8,Nd2,Nxd2,Qxd2,Qc7,Rb6,Rfe8,Reb1,e5,Qb2,exd4,cxd4,Re7,Kf1,Qh2,f3,Rbe8,Rxb7,Re1+,Rxe1', 'Qh1+,Kf2,Qxe1#', 'https://lichess.org/training/Qe0Dx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QE14z', 'Classical', 'Callmelappen', 1820, 'Yazeed7', 1801, 'd4,e6,c4,Nf6,Nc3,d5,Nf3,Nc6,Bg5,dxc4,e4,h6,Bxf6,Qxf6,e5,Qg6,Bxc4,Bd7,O-O,O-O-O,Nh4,Qh7,Bd3,Qg8,Qa4,Kb8,Bb5,a6,Bxc6,Bxc6,Qc4,Be7,Nf3,Qh7,Nd2,Qg6,f3,Bb5,Nxb5,axb5,Qxb5,Rxd4,Nb3,Rd5,Qc4,Rxe5,Rad1,Rd8,Rxd8+,Bxd8,Rd1,Qf6,Nc5,Rxc5,Qxc5,Be7,Qd4', 'Qxd4+,Rxd4,Bc5,Kf1,Bxd4', 'https://lichess.org/training/QE14z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qe1E0', 'Rapid', 'hakankavruk', 2006, 'Abou-al-Valid', 2088, 'e4,c5,f4,Nc6,Nf3,e6,c3,Nf6,Bc4,Nxe4,O-O,Be7,f5,d5,fxe6,dxc4,exf7+,Kf8,Qe2,Nf6,Qxc4,Qd5,Qf4,Be6,Ng5,Bxf7,Nxf7,Qxf7,Na3,h6,Nc4,g5,Qc7,Bd8,Qxf7+,Kxf7,Nd6+,Kg6,Nxb7,Bb6,Nd6,Rhf8,Nc4,Nd7,Nxb6,Rxf1+,Kxf1,axb6,d3,Nde5,Ke2,b5,Be3,c4,dxc4,Nxc4,b3,Nxe3,Kxe3,Re8+,Kd3,g4,a4,Ra8,axb5,Rxa1,bxc6,Ra6,b4,Rxc6,b5,Rc5,c4,Kf6,Kd4,Rc8,Kd5,Ke7,b6,Kd7,c5,Ra8', 'c6+,Ke7,b7', 'https://lichess.org/training/Qe1E0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qe24w', 'Rapid', 'Bombist', 2342, 'callme06', 2291, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,d6,c3,O-O,h3,Na5,Bc2,c5,d4,Qc7,d5,Bd7,b3,Rfb8,Nbd2,Ne8,Nf1,g6,Ng3,Ng7,Bh6,Nb7,Nd2,Nd8,c4,f6,Bxg7,Kxg7,a3,Nf7,h4,a5,cxb5,Bxb5,a4,Ba6,h5,Qd7,Qf3,Rb4,Bd3,Ng5,Qe2,Bxd3,Qxd3,Rab8,Rab1,Bd8,Nc4,Bc7,Rf1,Qg4,Rfe1,gxh5,Nf5+,Kh8,f3,Qf4,Rf1,h4,Kf2,Rg8,Rh1,h3', 'g3,Qxf3+,Qxf3,Nxf3,Kxf3', 'https://lichess.org/training/Qe24w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qe3Wn', 'Rapid', 'shamveel', 1959, 'Pkind001', 1928, 'Nf3,d5,c4,d4,e4,dxe3,fxe3,Nc6,d4,Bg4,Nc3,e6,Bd3,Bxf3,Qxf3,Nf6,O-O,Qd7,Bd2,O-O-O,a4,Nxd4,exd4,Qxd4+,Kh1,Qxd3,Be3,Ng4,Qxg4,Qxe3,Rxf7,Bd6,Nb5,h5,Qxg7,Be5', 'Rxc7+,Kb8,Rxb7+', 'https://lichess.org/training/qe3Wn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qe69m', 'Rapid', 'DonGato71', 1866, 'merip', 1842, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,e3,c5,cxd5,cxd4,exd4,Qa5,dxe6,Qxg5,exd7+,Bxd7,Nf3,Qa5,Bd3,Bb4,Qe2+,Be6,Bb5+,Ke7,O-O,Bxc3,bxc3,a6,Bc4,Rac8,Bxe6,fxe6,Rfe1,Rc6,c4,Kd8,Ng5,Qxg5,Rab1,Kc8,Qb2,Rc7,Rxe6,Qf5,d5,Re8,Rxe8+,Nxe8,Rc1,Qd3,Qe5,Nf6,Qe6+,Kb8,c5,Rxc5', 'Qd6+,Ka7,Qxc5+', 'https://lichess.org/training/Qe69m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qE81S', 'Blitz', 'Mirumjan', 1801, 'Vener_nigmat-1956', 1774, 'Nf3,b6,g3,Bb7,Bg2,g6,O-O,Bg7,c3,d6,d3,Nd7,e4,e5,Nbd2,h5,h4,Bf6,Nc4,Ne7,a4,Nc5,b4,Ne6,Qe2,Rg8,Be3,g5,hxg5,Bxg5,Nxg5,Nxg5,Qxh5,Ne6,Bh3,Qd7,Qh7,O-O-O,Bxe6,Qxe6,Qh2,Rh8,Qg2,Rh7,Bg5,Rdh8,Bxe7,Qxe7,Ne3,Qg5,Nf5,Qxf5,exf5', 'Rh1+,Qxh1,Rxh1#', 'https://lichess.org/training/qE81S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qeB0D', 'Blitz', 'Umutmut', 1730, 'bbatal', 1723, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,Bb4,Bg5,O-O,e3,b6,a3,Be7,cxd5,Nxd5,Bxe7,Nxe7,Bd3,Nd7,b4,Bb7,O-O,Nd5,Qc2,Nxc3,Qxc3,Bxf3,gxf3,Qg5+,Kh1,Qd8,Rg1,Nf6,Rg2,Qd5,e4,Qd7,e5,Nd5,Qd2,Kh8,Rag1,Rg8,Qg5,f6,Qh5,f5,Rg3,Nf4,Qh6,Nxd3', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/qeB0D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QEbcD', 'Classical', 'rdursun', 2090, 'VISHAAL-KUMAR', 2071, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,O-O,h6,Re1,O-O,Nbd2,a6,a4,Ne7,Nf1,Ng6,d4,exd4,cxd4,Bb4,Bd2,Bxd2,Qxd2,Bg4,Bd3,Bxf3,gxf3,Nh4,Qe3,Re8,f4,Nf5,exf5,Rxe3,fxe3,c5,e4,cxd4,e5,dxe5,fxe5,Nd5,e6,fxe6,fxe6,Qf6,Bc4,Ne7,Ng3,Rc8,Bb3,Rc6,Rf1,Qg6,Rf7,Qg5,Raf1,Qe3+,Kg2,Qxb3,Rxe7,Rxe6,Rd7,Qxb2+,Kh3,Rf6,Nf5,Qc3+,Kg4,Rg6+,Kh4,Qd3,Rf4,Rg2,Ne7+,Kh7,Rfxd4,Rxh2+,Kg4,Rg2+,Kf4,Qg3+,Kf5,Rf2+,Ke6,Qe3+,Kd5,Qb3+,Kd6,Re2,Nd5,h5,Nf4,Qg3,Kc5,Rc2+,Kb6,Rb2+,Ka7,h4,Nh5,Qe5,Nxg7,h3,Nf5+,Kg6,Nh4+,Kh5,Rh7+,Kg5,Nf3+,Kg6,Nxe5+,Kxh7,Rh4+,Kg7,Nd7,h2,Nb6,Kg6,Kxb7,Kg5,Rh8,Kg4,Kxa6,Kg3,Nc4,Rb4,Nb6', 'Rh4,Rxh4,Kxh4', 'https://lichess.org/training/QEbcD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qEcIh', 'Rapid', 'HEKCORR', 1613, 'ansan', 1802, 'g3,e5,Bg2,d5,b3,c5,Bb2,Nc6,d3,Nf6,Nd2,Be7,e3,O-O,Ne2,h6,O-O,d4,e4,Ng4,h3,Nf6,f4,exf4,Nxf4,Ne5,a3,Bd7,Qe2,Qc8,g4,Nfxg4,hxg4,Nxg4,Nd5,Bd8,Bh3,Ne3,Bxd7,Qxd7,Nxe3,dxe3,Qxe3,Re8,Rf3,Bb6,Nc4,Bc7,Raf1,Qg4+,Kf2,b5,Nd2,c4,bxc4,bxc4,Nxc4,Rab8,Ke2,Qg2+,R1f2,Qg4,Kd2,Ba5+,c3,Rxb2+,Nxb2,Qc8,Nc4,Bc7,Rxf7,Qb8,Qd4,Be5,Nxe5,Qb2+,Ke3,Qc1+,Ke2,Qc2+,Kf1,Qc1+,Kg2,Qg5+,Kh1,Qh4+,Kg1,Qg3+,Kf1,Qh3+,Rg2,Qh1+,Rg1,Qh3+,Ke2,Qh5+,Rf3,Rxe5,Qc4+,Kh7,Rf1,Rb5,Qf7,Rb2+,Ke3,Qg5+,Rf4,Qg3+,R4f3,Qg5+,Qf4', 'Qc5+,d4,Qxc3#', 'https://lichess.org/training/qEcIh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qedin', 'Rapid', 'yipzhengxyun', 1883, 'Markush_Vladislav', 1993, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,Nf6,cxd4,Bb4+,Bd2,Nxe4,Bxb4,Nxb4,Bxf7+,Kxf7,Qb3+,d5,Qxb4,Re8,O-O,Kg8,Nc3,Bg4,Ne5,Bf5,Qxb7,Nxc3,bxc3,Qd6,Qc6,Qxc6,Nxc6,Re6,Ne5,c5,Rfe1,cxd4,cxd4,h5,Rac1,Rb8,h3,Rb2,g4,hxg4,hxg4,Be4,f3,Bg6,f4,Be4,Rc8+,Kh7,Nf7,Kg6,Ne5+,Kh7,Nf7,Kg6,f5+,Kxf7,fxe6+,Kxe6,Rc6+,Kd7,Ra6,Rg2+,Kf1,Rxg4,Rxa7+,Kd6,Ra6+,Kd7,a4', 'Bd3+,Kf2,Bxa6', 'https://lichess.org/training/qedin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qeFJl', 'Rapid', 'Tchemr', 1761, 'UncleSam1990', 1791, 'e4,c6,d4,d5,exd5,cxd5,h3,Nc6,Nf3,Nf6,Bd3,g6,c3,Bg7,O-O,O-O,Re1,Bf5,Bxf5,gxf5,Nbd2,Bh6,Nf1,Bxc1,Rxc1,e6,N3h2,Kh8,Ng3,Ne4,Qh5,Nxg3,fxg3,Qe7,Nf3,Rg8,Kf2,Na5,Ne5,Rg7,g4,fxg4,Nxg4,Rg5,Qh4,Rf5+,Kg3,Rf3+', 'gxf3,Qxh4+,Kxh4', 'https://lichess.org/training/qeFJl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qEfLy', 'Blitz', 'ahmedhassan2932008', 1671, 'Fialed', 1721, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,d5,Bb3,a6,exd5,exd5,a3,Nf6,O-O,Be7,Bg5,O-O,Re1,h6,Bh4,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,Nxb3,cxb3,b5,Nc3,d4,Ne4,Nxe4,Bxe7,Qxe7,Rxe4,Qb7,Qf3,Rae8', 'Rxe8,Qxf3,Rxf8+,Kxf8,gxf3', 'https://lichess.org/training/qEfLy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qEFs1', 'Rapid', 'tevasik', 2307, 'charlyesterio2', 2276, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be3,Bb4,g3,d5,exd5,Nxd5,Nxc6,bxc6,Bd4,O-O,Bg2,Ba6,a3,Ba5,b4,Bb6,Bxb6,axb6,Ne2,Rc8,O-O,Qf6,Re1,Rfd8,Qc1,c5,c4,Ne7', 'b5,Bxb5,cxb5', 'https://lichess.org/training/qEFs1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QeGx5', 'Blitz', 'PLOUVIEZ', 1634, 'thanhquang0410', 1653, 'd4,d5,Nf3,Bf5,g3,e6,Bg2,Nf6,Nbd2,Be7,O-O,O-O,Nh4,Bg6,Nxg6,hxg6,Nf3,c5,c3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bg5,Nh5,Bxe7,Qxe7,e3,c5,e4,Rad8,exd5,Nf6,Qa4,Nxd5,Rfe1,Nb6,Qb5,Rd2,Rad1,Rfd8,Rxd2,Rxd2,a3,Qd8,b4,cxb4,cxb4,Qd4,Qe8+,Kh7,Qxf7,Nc4,Qxe6', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/QeGx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qehbn', 'Rapid', 'fatkhur86', 2002, 'olegop', 2026, 'e3,e5,d4,exd4,exd4,d5,c4,dxc4,Bxc4,Nf6,Nc3,c6,Qb3,Qe7+,Nge2,g6,O-O,Bg7,Bg5,O-O,Rae1,Qd6,Bxf6,Bxf6,d5,cxd5,Bxd5,Nc6,Ne4,Qe5,f4,Qxb2,Nxf6+,Qxf6,f5,Bxf5,Qxb7,Nd4,Nxd4,Qxd4+,Kh1,Rab8,Qc6,Rfc8,Qd6,Rd8,Bxf7+,Kxf7,Re7+,Kg8,Re8+,Kg7', 'Qf8#', 'https://lichess.org/training/qehbn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QEiFE', 'Rapid', 'Eman2007', 2137, 'kourosh1390', 2085, 'e4,c5,Nc3,d6,g3,e5,Bg2,Nf6,Nge2,Be6,d3,d5,exd5,Nxd5,O-O,Nc6,f4,exf4,Nxf4,Nxf4,Bxf4,Rc8,Ne4,Be7,Qd2,O-O,Ng5,Qd4+,Be3', 'Bxg5,Bxd4,Bxd2', 'https://lichess.org/training/QEiFE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QeIl1', 'Blitz', 'khaerul_umam01', 1773, 'SabilatulAsma', 1680, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,Nf6,Bf4,Bf5,Bd3,Bg6,O-O,e6,Rc1,Be7,Bxg6,hxg6,Bg5,Ng4,Bxe7,Qxe7,h3,Nf6,Qe2,Nbd7,Rfe1,O-O-O,Na4,Nd5,c4,Nf4,Qe3,g5,d5,Qf6,dxc6,bxc6,Ne5,Nxe5,Qxa7,Nd7,Rcd1,Nxh3+,gxh3,Rxh3,Rxd7,Rxd7', 'Nb6+,Kd8,Qxd7#', 'https://lichess.org/training/QeIl1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QeIsr', 'Rapid', 'geoham', 2028, 'XxcihopsxX15', 1736, 'a3,e5,c3,d5,d4,exd4,cxd4,Nf6,Nc3,Bd6,Bg5,c6,Nf3,h6,Bh4,O-O,Qd2,Nbd7,Rc1,Qb6,h3,Qc7,g4,g5,Bxg5,hxg5,Qxg5+,Kh7,Qh4+,Kg7,g5,Ng8,g6,fxg6,Ng5,Ndf6,Rg1,Ne7,Nb5,Qd8,Nxd6,Qxd6,f4,Rh8', 'Qxh8+,Kxh8,Nf7+,Kg7,Nxd6', 'https://lichess.org/training/QeIsr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QEJKY', 'Rapid', 'Tolik11111', 2156, 'mah135', 2175, 'd4,c6,Bf4,d5,Nc3,Nf6,h3,g6,Qd2,Bg7,Bh6,Bxh6,Qxh6,Bf5,O-O-O,Nbd7,g4,Be4,f3,Bxc2,Kxc2,Rg8,g5,Nh5,Qxh7,Rg7,Qh8+,Nf8,Rh2,Qd6,Rg2,O-O-O,e4,Nh7,e5,Qe6,Qxg7,Nxg7,f4,Nh5,Rf2,f6,gxf6,exf6,h4,fxe5', 'Bh3,Qxh3,Nxh3', 'https://lichess.org/training/QEJKY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qek3y', 'Blitz', 'GM BabaRamdev', 2748, 'GM Creep30', 2810, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,h6,cxd5,exd5,Bf4,Bd6,Bg3,c6,e3,Bxg3,hxg3,Bf5,Bd3,Bxd3,Qxd3,Nbd7,O-O-O,Qe7,Qc2,O-O-O,Kb1,Kb8,Ne1,h5,Nd3,Ng4,Rhe1,g6,Qd2,f5,f3,Ngf6,Nf4,Rhg8,Qc2,Qd6,Qf2,g5,Nd3,Rde8,f4,Ng4,Qd2,Nb6,Ne5,Nxe5,dxe5,Qb4,Qc2,Nc4,Ka1,gxf4,gxf4,Rg3,Rd3,Reg8,a3,Qb6,Nd1,Rxg2,Re2,Rxe2,Qxe2,Rg1,Ka2,h4,Qh5,a5,Rb3,Qa6,e6,a4,Rb4,Nd6,e7,Rg8,Qh6,Nc8,Nc3,Qa5,Qe6,Re8,Qd7,Rxe7', 'Rxb7+,Ka8,Qxc8#', 'https://lichess.org/training/qek3y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QeKDy', 'Rapid', 'nhrtsqjpmzaqgvi', 1910, 'HowToStopPlaying', 1938, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,d5,Ne5,O-O,a3,Bxc3+,bxc3,Nfd7,Bf4,c5,e3,Nxe5,dxe5,Nc6,Qg4,Qa5,Kd2,d4,Rc1,dxc3+,Rxc3,Rd8+,Bd3,g6,Qg5,b5,Qf6,bxc4', 'Bh6,Rxd3+,Ke2', 'https://lichess.org/training/QeKDy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QeLb0', 'Blitz', 'nikin94', 2241, 'FM SereFra99', 2404, 'e4,c6,d3,d5,Nd2,dxe4,Nxe4,e5,Bg5,f6,Be3,Nd7,Qd2,Qa5,c3,Nb6,Nf3,Nd5,h4,Bg4,Be2,f5,Nxe5,Bxe2,Qxe2,Nxe3,Qh5+,g6,Nxg6,hxg6,Qxg6+,Kd8,Ng5,Nh6,fxe3,Qd5', 'Qf6+,Kc7,Qxh8', 'https://lichess.org/training/QeLb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qelqd', 'Rapid', 'Grewd', 1675, 'thanhlong0511', 1710, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,c6,Bd2,Qd8,g3,Bg4,Bg2,e6,O-O,Be7,Bg5,Nbd7,Qd2,h6,Bxf6,Bxf6,Ne5,Nxe5,dxe5,Bxe5,Qxd8+,Rxd8,h3,Bf5,Rfe1,Bf6,Rac1,O-O,Ne4,Bxb2,Rb1,Bxe4,Bxe4,Bc3,Red1,Rxd1+,Rxd1,Ba5,Rd7,Ra8,Rxb7,c5', 'Rb5,Rc8,Rxa5', 'https://lichess.org/training/qelqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qeLrO', 'Rapid', 'MrShooko', 2083, 'adnankhaddam', 2020, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,c3,Nf6,e5,d5,Be2,Nd7,cxd4,c5,Qa4,Qh4,Bb5,Qxd4,Nc3,Qxe5+,Kd1,a6', 'Re1,Qxe1+,Kxe1', 'https://lichess.org/training/qeLrO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qEmF6', 'Rapid', 'Laroleg', 1850, 'carlosdiaz2016', 1878, 'e4,e5,Nc3,f5,exf5,Nf6,d4,Nc6,d5,Ne7,Bg5,Nxf5,Bd3,d6,Bxf6,Qxf6,Qh5+,g6,Qe2,a6,Nf3,Bg7,Ne4,Qe7,O-O,h6,c4,O-O,Rfe1,Bd7,b4,g5,c5,Nd4,Nxd4,exd4,cxd6,cxd6,Rac1,Rac8,Qh5,Be5,Qxh6,Rxc1,Qg6+,Qg7,Qxg7+,Kxg7,Rxc1,Bf5,Rc7+,Kg6,f3,Rh8,h3,Rh7,Rxh7,Kxh7,Nf2,Kg6,Bxf5+,Kxf5,Nd3,Bg3,Kf1,b5,Ke2,Kf6,Nc1,Ke5,Kd3,Kxd5,Ne2,Bf2,g3,Be3,h4,gxh4,gxh4,Ke5,h5,d5,f4+,Kf5', 'Nxd4+,Bxd4,Kxd4', 'https://lichess.org/training/qEmF6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QeMx7', 'Rapid', 'Luidirug3', 1677, 'Acerb8', 1656, 'e4,b6,Nf3,Bb7,e5,Bxf3,Qxf3,Nc6,Bb5,Nxe5,Qh5,Ng6,O-O,e6,d4,Nf6,Qf3,a6,Ba4,Be7,Bg5,O-O,Nd2,Nd5,Bxe7,Qxe7,Ne4,Rac8,c4,b5,cxd5,bxa4,dxe6,d5,Nc5,fxe6,Qa3,Qg5,Nxe6,Qf5,Nxf8,Rxf8,Qxa4,Nf4,Qxa6,Qg4,g3,Nh3+,Kg2,Ng5,Qd3', 'Qh3+,Kg1,Nf3+,Qxf3,Rxf3', 'https://lichess.org/training/QeMx7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qEoa4', 'Rapid', 'DeadpoolGER', 1959, 'Dimitrius1994', 1921, 'c4,d6,Nc3,g6,g3,Bg7,Bg2,Nf6,Nf3,O-O,O-O,Nbd7,e4,e5,Ne1,c5,d3,a6,f4,exf4,Bxf4,Qc7,Nd5,Nxd5,cxd5,Bxb2,Rb1,Bd4+,Kh1,Nf6,a4,Nh5,Bh6,Re8,Nc2,Bg7,Bxg7,Kxg7,d4,c4,Ne3,b5,axb5,axb5,Rxb5,Ba6,Rb1,c3,Rf2,Rab8,Rc1,Rec8,Qf3,Qd7,g4,Nf6,Qxf6+,Kg8,Nd1,c2,Ne3', 'Rb1,Rff1,Bxf1', 'https://lichess.org/training/qEoa4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qEp0t', 'Rapid', 'imverylow', 1847, 'ikar49', 1842, 'e4,f5,exf5,Nf6,Nc3,d5,d3,Bxf5,Bg5,Nc6,Qe2,e6,O-O-O,Be7,Nf3,O-O,h3,Nd7,Bxe7,Nxe7,g4,Bg6,Qxe6+,Bf7,Qe2,c5,Bg2,Nb6,Ne5,d4,Ne4,Ned5,Nxf7,Rxf7,Nxc5,Nf4,Qe4,Nxg2,Qxg2,Rb8,Rde1', 'Qg5+,f4,Qxc5', 'https://lichess.org/training/qEp0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qepB9', 'Rapid', 'black_hats', 2000, 'drunkingreatness', 2237, 'd4,f5,Bg5,g6,c4,Bg7,Nc3,Nf6,e3,O-O,Nge2,d6,Qc2,Nc6,a3,e5,d5,Ne7,h3,c6,g3,cxd5,cxd5,Bd7,Bg2,Rc8,Qb3,b5,f4,e4,O-O,h6,Bh4,Qb6,Nd4,Rc5,Rfe1,Rfc8,Rad1,a5,Ne6,Bxe6,dxe6,Qc6,g4,d5,g5,hxg5,fxg5,Nh7,Bf1,Qxe6,Nxb5,Nc6,Bg2,Rb8,Nc7,Qd6,Rxd5,Rxd5,Qxd5+,Qxd5,Nxd5,Rxb2,Rc1,Ne5,Rc8+,Bf8,Nf4,Ra2,Re8,Nf3+,Bxf3,exf3,Nxg6,Kf7,Nxf8,Nxf8,Re5,Kg6,Rxa5,Kh5,Bg3,Kxg5,Ra6', 'Rg2+,Kf1,Rxg3', 'https://lichess.org/training/qepB9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qEPQE', 'Rapid', 'PedroAbdala216', 1808, 'jessy70', 1824, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h6,h5,Bh7,f4,e6,Nf3,Qc7,Be3,Nd7,Bh3,O-O-O,Nbd2,Bb4,c3,Ba5,f5,exf5,gxf5,Ne7,Nh4,g5,fxg6,fxg6,Bxh6,gxh5,Qxh5,Bd3,Nb3,Be4,Bg2,Bxg2,Nxg2,Ng8,Qg5,Nf8,O-O-O,Ne6,Qe3,Bb6,Nc5,Nxh6', 'Nxe6', 'https://lichess.org/training/qEPQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QEqhD', 'Rapid', 'DenianCXI2', 2326, 'AydinNasir', 2487, 'e4,e5,Nf3,d5,Nxe5,Bd6,d4,dxe4,Nc4,Be7,Be2,Nf6,O-O,O-O,Bg5,Nc6,c3,Nd5,Bxe7,Ncxe7,Nbd2,f5,Ne3,c6,g3,f4,Nxd5,cxd5,Bg4,f3,Bxc8,Qxc8,Kh1,Qh3,Rg1,Rf6,Qf1,Qg4,Qb5,Rb6,Qc5,Kf7,Rab1,Rc8,Qa5,Rh6,Nf1,e3,Nxe3', 'Rxh2+,Kxh2,Qh5#', 'https://lichess.org/training/QEqhD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qESH1', 'Rapid', 'Sevastopol71', 1783, 'TadoBanry', 1780, 'e4,e5,Bc4,d6,Nf3,h6,h3,Nf6,d3,a6,a4,Nc6,Nc3,Be7,Be3,O-O,Nd5,Nxd5,Bxd5,Nb4,Qd2,Nxd5,exd5,Re8,h4,Bg4,Ng1,Bxh4,Bxh6,g5,g3,Kh7,gxh4,Kxh6,hxg5+,Kg7,g6,Bf5,Qh6+,Kf6,g7+,Bg6,O-O-O,Rg8,Rh3,Rxg7,Rf3+,Ke7,Nh3,Qh8,Qg5+,Kd7,Qf6,Qh6+,Ng5,Re8', 'Rh3,Qxh3,Nxh3', 'https://lichess.org/training/qESH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qeuAT', 'Rapid', 'MustardFuzz', 1833, 'Bernuy', 1870, 'd4,d5,c4,Nc6,Nf3,Bg4,e3,e6,h3,Bxf3,Qxf3,Bb4+,Bd2,Nf6,a3,Bxd2+,Nxd2,O-O,cxd5,exd5,Bd3,Re8,O-O,Ne7,Rac1,c6,b4,a6,Nb3,Ng6,Nc5,Qe7,Rfe1,Ne4,a4,Nh4,Qe2,Nxc5,Rxc5,Ng6,Rec1,Rad8,b5,axb5,axb5,cxb5,Bxb5,Rf8,Rc7,Qa3,Qd3,Qxd3,Bxd3,Rb8,Rb1,Rfd8,Rcxb7,Rxb7,Rxb7,Kf8,Be2,Ne7,Bf3,g6,Kh2,f5,Kg3,Kf7,Kf4,Rd6,g4,fxg4,hxg4,h6,Bd1,g5+,Kg3,Kf6,Bb3,Rd8,Rb6+,Kg7,f4,gxf4+,Kxf4,Ng6+,Kf5', 'Rf8+,Ke6,Rf6+,Kxd5,Rxb6', 'https://lichess.org/training/qeuAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QEUh8', 'Blitz', 'Sadokmarzougui', 1958, 'majidansari1357', 1943, 'e4,g6,d4,Bg7,c4,d6,Nc3,Nc6,Be3,e5,d5,Nd4,Bxd4,exd4,Nce2,Qf6,Nf3,d3,Ned4,c5,dxc6,bxc6,Bxd3,c5,Nb3,Qxb2,O-O,Qa3,Re1,Ne7,e5,dxe5,Nxe5,O-O,Qf3,Bf5,Bxf5,Nxf5,Qc6,Rac8,Qf3,Rce8,Nd7,Bxa1,Rxa1,Qb2,Nxf8', 'Qxa1+,Nxa1,Re1#', 'https://lichess.org/training/QEUh8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QEw3V', 'Blitz', 'prathamesh112', 1901, 'WFM DianaMirza', 1886, 'e4,d5,exd5,Qxd5,Nf3,Qd8,Be2,Nf6,O-O,g6,d4,Bg7,c4,O-O,Nc3,c5,d5,Nbd7,Bg5,h6,Bh4,g5,Bg3,Nh7,h4,g4,Nh2,h5,f3,f5,fxg4,hxg4,Bxg4,fxg4,Nxg4,Bd4+,Kh2,Ndf6,Nh6+,Kh8,Nf5,Bxf5,Rxf5,Ng4+', 'Qxg4,Rxf5,Qxf5', 'https://lichess.org/training/QEw3V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qewgw', 'Rapid', 'chess32138', 1815, 'Dm_Sin', 1831, 'd4,c5,d5,e5,c4,Nf6,Nc3,d6,e4,Na6,Nf3,g6,Bd3,Bg7,Bd2,O-O,h4,Nc7,Ng5,h6,h5,Nxh5,Rxh5,gxh5,Qxh5,hxg5,O-O-O,f6,Rh1,Qe8,Qh7+,Kf7,Qg6+,Ke7,Qxg7+,Rf7,Qh6,Bd7,Bxg5,fxg5', 'Qxg5+,Rf6,Rh7+', 'https://lichess.org/training/Qewgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QewVH', 'Classical', 'scarface2015', 1817, 'elduende', 1882, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,Nf3,Qxe4+,Be2,Be7,O-O,O-O,Re1,Re8,Bd3,Qc6,b3,d5,Bb2,Bd7,Ng5,h6,Nf3,Ne4,Ne5,Qb6,Bxe4,dxe4,Nxd7,Nxd7,Qg4,Nf6,Bxf6,Bxf6,Nc3,Bd4,Re2,Re6,Rae1,Rae8,Nxe4,Rxe4,Rxe4,Bxf2+,Kh1,Rf8,R1e2', 'f5,Qf4,fxe4', 'https://lichess.org/training/QewVH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qEXJ5', 'Rapid', 'anshusharma1983', 1979, 'mryobrien', 1951, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,h3,Nf6,O-O,Be6,Bxe6,fxe6,Nxd4,e5,Nxc6,bxc6,Bg5,Rb8,b3,h6,Bxf6,Qxf6,Nd2,h5,Re1,g5,g4,hxg4,Qxg4,Rh4,Qg3,Rf4,Re3,d5,exd5,cxd5,Rae1,Bd6,Qg2,e4,c4,c6,Nxe4,dxe4,Rxe4+,Kd7,Re6,Qxe6,Rxe6,Kxe6,Qxg5,Rbf8,Qg6+,R8f6,Qe8+,Kf5,Qxc6,Rg6+,Kf1', 'Rxf2+,Kxf2,Bg3+', 'https://lichess.org/training/qEXJ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QEySR', 'Rapid', 'Kagot', 1862, 'FKasai', 1879, 'c4,Nf6,Nc3,e6,d4,Bb4,Nf3,d5,cxd5,Nxd5,Bd2,O-O,a3,Nxc3,bxc3,Bd6,e4,f6,Bc4,a6,a4,Qe8,Qb3,Nc6,a5,Kh8,O-O,e5,d5,Na7,Nh4,Qh5,Nf5,Nb5,Bxb5,axb5,Qxb5,Bxf5,exf5,Qxf5,Qxb7,Rfb8,Qc6,e4,c4,Qc8,Rfe1,Ra6,Qa4,Be5,Rab1,Rxb1,Rxb1,h6,c5,Qg4,h3,Qf5,Rb4,e3,Bxe3,Qd3,Qb5', 'Qd1+,Qf1,Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/QEySR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QeyXA', 'Blitz', 'presidonaycs', 1971, 'P3141519', 2020, 'e4,c5,Nf3,Nc6,Nc3,d6,Bc4,h6,d3,e5,O-O,Nf6,Be3,Be7,h3,b6,a4,Rb8,a5,O-O,axb6,axb6,Nb5,Nd4,Bxd4,cxd4,Qd2,Be6,b3,Rb7,Ra6,Nh7,Rfa1,Ng5,Nxg5,Bxg5,Qb4,Bxc4,bxc4,Be7,Qb2,Qd7,Ra8,Rxa8,Rxa8+,Kh7,Qc1,f5,f4,fxe4,dxe4,Qc6,Qf1,Rd7,fxe5,Qxa8,Qf5+,Kh8,Qxd7,Qf8,exd6,Bg5,Qf5,Be3+,Kh2,Qd8,d7,Bg5,Qe6,Kh7,Qe8,Qf6,d8=Q,Qf4+,Kg1,Qc1+,Kf2,Qe3+,Kf1,Qc1+,Ke2,Qd2+,Kf3', 'Qe3+,Kg4,Qf4+,Kh5,Qh4#', 'https://lichess.org/training/QeyXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qeYyW', 'Rapid', 'deux-fous', 1991, 'giulianofabi', 1966, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Ne4,g3,Bc5,Be3,Bxe3,fxe3,Qg5,Qd4,Nxg3,hxg3,Qxg3+,Ke2,Ba6+,c4,Rb8,b3,c5,Qf4,Qg6,Nc3', 'Qc2+,Kf3,Qxc3', 'https://lichess.org/training/qeYyW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QEzjk', 'Rapid', 'Fenix25', 1724, 'TheRowan', 1704, 'c4,Nf6,d4,e6,e3,b6,Nc3,Bb4,Bd2,d5,Bd3,Ba6', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/QEzjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QezRN', 'Rapid', 'Divyansh1302', 1611, 'Elda7i71', 1613, 'd4,g6,e4,Bg7,c3,d6,Qf3,e5,Bc4,Qe7,Nh3,h6,g4,exd4,g5,Bxh3,Qxh3,dxc3,Nxc3,hxg5', 'Qc8+,Qd8,Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/QezRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QEzVT', 'Rapid', 'msaeedk', 1886, 'Malig', 1872, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nf6,Nf3,Bg4,Be2,Nc6,O-O,e6,Be3,Be7,Qa4,O-O,Bc4,Qh5,Be2,cxd4,cxd4,Rac8,h3,Bxf3,Bxf3,Qg6,Nc3,Rfd8,Rfd1,Nd5,Nxd5,exd5,a3,a6,Be2,Bd6,b4,Bb8,Qb3,Qd6,Bf3,Ne7,g3,Nf5,Bf4,Qg6,Bxb8,Rxb8,Bxd5,Qf6,Qa2,Nxd4,Rd3,Ne2+,Qxe2,Qxa1+,Kg2,Qf6,Rf3,Qd6,Bxf7+,Kh8,Qe4,Rf8,Bd5,Rxf3,Qxf3,Rf8,Qe4,Qf6,Qe3,b5,Bb7,Rb8,Be4,g6,h4,Qe5,Qd3,Qe7,Qd4+,Qg7,Qd6,Qf8', 'Qe5+,Qg7,Qxb8+', 'https://lichess.org/training/QEzVT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qF1bC', 'Rapid', 'Hamlet13mx', 1874, 'Tentamten', 1864, 'e4,c5,c3,Nc6,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Bxf6,Bxf6,Be2,Qb6,Nxc6,Qxb2,Nd4,Qxa1,Nb5,Be5,O-O,a6,Nd6+,Ke7,Nc4,Bxc3,Qd6+,Kd8,Nbd2,Qxa2,Bg4,b5,Qb6+,Ke8,Nd6+,Ke7,Nf3,Qa5,Qc5,Bb4,Nf5+,Kd8,Qd4,exf5,Bxf5,Qc7,Qxg7,Bc3,e5,Bb7', 'Qxh8+,Ke7,Qf6+', 'https://lichess.org/training/qF1bC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QF2m0', 'Rapid', 'gunesg', 1750, 'radopit', 1619, 'e4,a6,a4,Nc6,Bc4,e6,Nf3,d5,exd5,exd5,Bb3,Bg4,O-O,Nd4,Nc3,Bxf3,gxf3,Nxb3,cxb3,d4,Re1+,Be7,Ne4,d3,Re3,Nf6,Nxf6+,gxf6,Qf1,Rg8+,Kh1,Qd5,Rxd3,Qf5,b4,Bxb4,Re3+,Kf8,d4,c5,dxc5,Bxc5,Rd3,Re8,Be3', 'Qxf3+,Qg2,Qxg2#', 'https://lichess.org/training/QF2m0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qf59m', 'Blitz', 'FastBananna', 2410, 'IM italian5', 2393, 'c4,e6,Nc3,c5,Nf3,Nf6,d4,cxd4,Nxd4,a6,e4,d6,Be3,Qc7,Be2,Nbd7,O-O,Be7,f3,b6,Qd2,Bb7,b3,O-O,Rac1,Rac8,Rfd1,Rfe8,Kh1,h6,Bf1,Qb8,Qf2,Bd8,h3,Bc7,Be2,Rcd8,Qh4,Nf8,Bf1,Ng6,Qe1,Nh5,Nde2,d5,cxd5,exd5,Qf2,dxe4,fxe4,Rxd1,Rxd1,Bxe4,Nxe4,Rxe4,Rd7,Nf6,Rd4,b5,Nc3,Re8,a4,Bb6,Rd3,Bxe3,Rxe3,Rxe3,Qxe3,bxa4,Nxa4,a5,Bc4,Ne5,Qc3,Ne4,Qxa5,Nxc4,bxc4,Qb1+,Kh2,Qc1', 'Qa8+,Kh7,Qxe4+', 'https://lichess.org/training/Qf59m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qf5GJ', 'Classical', 'lukaszchojecki', 1732, 'kinhokinho13', 1769, 'e4,e5,Nf3,g6,Bc4,Bg7,Nc3,c6,d3,Nf6,Bg5,O-O,O-O,d5,exd5,cxd5,Nxd5,Be6,Ne3,Bxc4,Nxc4,Nc6,Ncxe5,Nxe5,Nxe5,Re8,Re1,Qd4,Nc4,Rxe1+,Qxe1,Re8,Qd2,Ng4,c3,Qc5,Re1', 'Rxe1+,Qxe1,Qxg5', 'https://lichess.org/training/Qf5GJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qF6HJ', 'Rapid', 'moteriyadeep', 1739, 'kazbek07', 1633, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bc5,Be3,Qb6,Na4,Qb4+,c3,Qa5,Nxc6,dxc6,Nxc5,Nf6,b4,Qc7,Bg5,Nd7,Nxd7,Bxd7,Be2,Qe5,Bd2,O-O,Bf3,f5,O-O,fxe4,Re1,Rad8,Rxe4,Qf6,Qc2,e5,Rae1,Bf5,Qb3+,Kh8,R4e2,e4,Bxe4,Bxe4,Rxe4', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/qF6HJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qf6tk', 'Rapid', 'OGNYN', 1883, 'skybuilder2', 1815, 'e4,c5,Nf3,Nc6,e5,e6,Bb5,Nd4,Nxd4,cxd4,d3,Qa5+,c3,Qxb5,cxd4,g6,Nc3,Qc6,O-O,b5,a3,Bb7,Ne4,Bg7,Bg5,h6,Bf6,Nxf6,exf6,Bf8,Re1,Qd5,a4,a6,axb5,axb5,Rxa8+,Bxa8,Qa1,Bb4,Rc1,O-O,Rc7,Qxd4,Qc1,Qxd3,Ng3,Bd2,Qc5,Qd5', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/Qf6tk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qf7pq', 'Rapid', 'NFLfan', 1856, 'Jomarga', 1834, 'e4,e5,f4,Bc5,Nf3,Nc6,c3,exf4,d4,Bb6,Bxf4,d6,Bb5,Bd7,Bd3,a6,Nbd2,Nf6,Bg5,h6,Bh4,g5,Bf2,Qe7,Qe2,O-O-O,O-O-O,Bg4,Rhe1,Kb8,Qf1,Nh5,d5,Bxf2,Qxf2,Ne5,Bf1,Bxf3,Nxf3,Nxf3,Qxf3,Nf4,g3,Ng6,Qe3,Ne5,Qd4,h5,Qb4,Ka8,Re3,h4,c4,hxg3,hxg3,f6,Rb3,c5,dxc6,Nxc6,Qb6,Rc8,Bg2,Ne5,Rxd6,Nxc4,Qxa6+,bxa6', 'Rxa6+,Qa7,e5+,Rc6,Bxc6#', 'https://lichess.org/training/qf7pq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qf845', 'Rapid', 'IgorHR', 1946, 'Jmmz_fam', 2081, 'd4,Nf6,c4,e6,b3,d5,cxd5,exd5,a3,c5,dxc5,Bxc5,Nc3,O-O,b4,Bb6,Na4,Ne4,Nxb6,Qxb6,Be3,Qf6,Bd4,Qd8,g3,Nc6,Bg2,Nxd4,Qxd4,Qc7,Nf3,Be6,O-O,Nc3,Qd3,Rac8,Nd4,Qc4,Qxc4,Rxc4,e3,Ne4,Nb3,Rfc8,Bxe4,dxe4,Nd2,Rc2,Nxe4,b6,Ng5,Bg4,Kg2,R8c6,h4,h6,Nf3,Bxf3+,Kxf3,g5,hxg5,hxg5,Rfd1,Rf6+,Kg4,Rcxf2,Kxg5', 'Rg6+,Kh5,Rh2#', 'https://lichess.org/training/Qf845');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qf8LJ', 'Blitz', 'merobaronelnick', 2131, 'Honfleur', 1990, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,e5,h6,Be3,Ne4,Qg4,g6,Ne2,Nxc3,bxc3,Be7,Nf4,h5,Qg3,g5,Nd3,b6,Be2,Ba6,f4,Bxd3,Bxd3,g4,h3,Rg8,hxg4,h4,Qf3,c5,f5,Bg5,fxe6,fxe6,Rf1,Qe7,Bb5+,Nd7,Bxg5,Rxg5,c4,O-O-O,cxd5,cxd4,d6,Rxe5+,Kd1,Qxd6', 'Ba6+,Kc7,Qb7#', 'https://lichess.org/training/Qf8LJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qf8Nw', 'Classical', 'finemaster', 1634, 'GeneralBlunder', 1628, 'e4,c5,Nf3,Nc6,Nc3,g6,Bc4,Bg7,O-O,e6,d3,Nge7,Bf4,d5,exd5,exd5,Bb5,Bxc3,bxc3,Qa5,Bxc6+,Nxc6,Bd6,Qxc3,Re1+,Be6,Ne5,Nxe5', 'Bxe5,Qxe5,Rxe5', 'https://lichess.org/training/qf8Nw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qf9zs', 'Rapid', 'caotico09', 1641, 'DragonFyre07', 1607, 'e4,c5,Nf3,e6,d4,d5,dxc5,Bxc5,Bb5+,Nc6,Bxc6+,bxc6,O-O,Ne7,Nc3,Ba6,Re1,Bb4,a3,Bxc3,bxc3,O-O,Ne5,Qc7,f4,Ng6,exd5,cxd5,Qd4,Nxe5,fxe5,f6,Qa4,Qb6+,Be3,Qb5,Qxb5,Bxb5,exf6,Rxf6,a4,Bc4,a5,Raf8,h3,a6,Bc5,Rc8,Be7,Rf7,Bb4,Rf6,Be7,Rf7,Rxe6,Re8,Rae1,d4,R6e4,dxc3,Rxc4,Rfxe7,Rxe7,Rxe7,Rxc3,Re5,Ra3,Rc5,c3,h6,Kf2,g5,Ke3,Kf7,Kd4,Rf5,c4,Ke6,c5,Rf4+,Kc3,Rf2,Kb4,Rxg2,Rd3,Rb2+,Kc4,Rc2+,Kb4,Rb2+,Kc3,Rb5,Rd6+,Kf5,c6,Rxa5,Kb4,Ra1,c7,Rc1,Rd7,Kf4', 'Rd4+,Ke5,Rc4', 'https://lichess.org/training/qf9zs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QFAe5', 'Rapid', 'Nikolayi10', 1785, 'pt281', 1910, 'e4,d5,e5,Bf5,d4,e6,Nc3,Ne7,h3,Nbc6,Nf3,h6,Be3,a6,Bd3,Na7,Qd2,Rc8,Nh4,g6,Nxf5,Nxf5,Bxf5,gxf5,O-O-O,c5,dxc5,Bxc5,Bxc5,Rxc5,Qd4,Qc7,Rd2,Ke7,f4,Nc8,Na4', 'Rc4,Qf2,Rxa4', 'https://lichess.org/training/QFAe5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qfApp', 'Rapid', 'lalex_120775', 1901, 'RVVORONEZH', 1909, 'e4,c6,Nf3,g6,Bc4,Bg7,d4,Nh6,h3,O-O,Be3,d5,Bd3,Qb6,Nc3,Qxb2,Na4,Qb4+,c3,Qd6,e5,Qc7,Qd2,Qa5,Nc5,Nf5,Bxf5,Bxf5,Nxb7,Qb5,Nc5,Nd7,Nxd7,Bxd7,Rc1,Qc4,Rc2,Rab8,Qc1,Rb6,Nd2,Qd3,Nb3,Bf5,Rd2,Qb5,g4,Be4,Rh2,f6,f4,fxe5,dxe5,Rb7,Rhf2,Bh6,g5,Bg7,Rb2,a5,Nd4,Qa6,Ne6,Rxb2,Rxb2,Bxe5,Nxf8,Bd6,Ne6,Qc8,Nc5,Qxh3,Nxe4,Qh1+,Kd2,Qxe4,Qf1,Kf7,f5,gxf5,Qh3,f4,Qh5+,Kg7,Qh6+,Kf7,Bd4,Qg2+,Kc1,Qf1+,Kc2,Qe2+,Kb3,Qc4+,Kc2,Qe2+,Kb1', 'Qd1#', 'https://lichess.org/training/qfApp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfbaH', 'Rapid', 'aspenion', 1803, 'YOGESH16', 1755, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qd6,Be2,f5,d3,Nf6,Bg5,Be7,Bxf6,Bxf6,O-O,O-O,Nd2,Nc6,f4,exf4,Nc4,Qc5+,Kh1,b5,Nd2,Bxc3,bxc3,Qxc3,Rxf4,Nd4,Rf1,Nxe2,Qxe2,Qxc2,Rac1,Qxa2,Rxc7,b4,Qe5,Rf7,Rxf7,Qxf7,Ne4,Bb7,Nd6,Qd7,Nxf5,Re8,Qg3,Rf8', 'Nh6+,Kh8,Rxf8#', 'https://lichess.org/training/QfbaH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfblG', 'Rapid', 'Papierhans', 2210, 'respyorellana', 2160, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,d6,h3,O-O,Be2,Nc6,O-O,Re8,c4,Nd7,Nc3,e5,Bh2,e4,Nd2,f5,a3,Nf6,b4,g5,c5,dxc5,bxc5,f4,Nb5,a6,Nxc7,Qxc7,Nc4,Nd5,Nd6,Rf8,Bc4,Be6,Nxe4,Qe7,Qh5,Bf7,Bxd5,Qxe4', 'Qxf7+,Rxf7,Bxe4', 'https://lichess.org/training/QfblG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfC3P', 'Blitz', 'eosRadik', 1997, 'miguel_bericat', 1766, 'd4,d5,Bf4,Nf6,e3,Bf5,c4,e6,Nc3,c5,Nf3,cxd4,Nxd4,Bg4,f3,Bh5,Rc1,Bd6,Bg5,e5,Nf5,O-O,Nxd5,Qa5+,b4,Bxb4+,Kf2,Nxd5,cxd5,Bg6,Ne7+,Bxe7,Bxe7,Nd7,Bxf8,Rxf8,Be2,e4,f4,Nc5,Qd4,Nd3+,Bxd3,exd3,d6,Qd2+,Kg3,h5,d7,h4+,Kh3,Bf5+,Kxh4,Qf2+,g3,Qf3,h3,Bg6,g4,Qf2+,Kg5,Bh7,Rc8,f6+,Kh5', 'g6+,Kh6,Qh4#', 'https://lichess.org/training/QfC3P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qfCm3', 'Blitz', 'reager', 1605, 'hristoff', 1677, 'e4,c6,d4,d5,e5,c5,dxc5,e6,b4,Nc6,a3,Nxe5,Nf3,Nxf3+,Qxf3,Nf6,Bd3,b6,c6,Qc7,b5,Bd6,g3,O-O,O-O,a6,Bg5,Be7,Nc3,axb5,Bxb5,Ba6,Bxa6,Rxa6,Qd3,Rfa8,Bxf6,Bxf6,Nxd5,exd5,Qxd5,Bxa1,Rxa1,Rxa3,Rd1,Ra1,Rxa1,Rxa1+,Kg2,Ra5,Qd7,Qb8,c7,Qb7+,Kh3,Rh5+,Kg4,f5+,Kxh5', 'Qf3+,Kh4,Qg4#', 'https://lichess.org/training/qfCm3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qFcx5', 'Rapid', 'Mehioch', 1853, 'SaqMadiq', 1878, 'd4,d5,c4,e6,Nf3,b6,g3,Ba6,b3,dxc4,bxc4,Bxc4,Nc3,Bb4', 'Qa4+,b5,Qxb4', 'https://lichess.org/training/qFcx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qfE7p', 'Blitz', 'Jupitrer', 1885, 'penzioner1927', 1814, 'Nf3,e6,e4,d5,exd5,exd5,Bb5+,c6,Ba4,Bd6,Nc3,Ne7,d3,Bg4,h3,Bh5,Bg5,f6,Bh4,Qc7,Qe2,g5,Nxd5,Qa5+,Nc3,gxh4,O-O-O,Nd7,Rde1,O-O-O,Qe6,Bf4+,Kb1,Nd5,Nxd5,cxd5', 'Bxd7+,Rxd7,Qxf6,Qd8,Qxf4', 'https://lichess.org/training/qfE7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qFEU0', 'Classical', 'Nikulika', 2042, 'landy17', 1862, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,d3,O-O,O-O,d6,h3,a6,a4,Nb4,Ne2,c5,c3,Nc6,Qb3,Na5,Qa2,Nxc4,Qxc4', 'Be6,Qxe6,fxe6', 'https://lichess.org/training/qFEU0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qffgx', 'Rapid', 'Menelay', 1701, 'Moltres02', 1691, 'e4,c6,h3,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,e5,d3,Bc5,Nc3,O-O,Nge2,Re8,O-O,Bf5,Bg5,h6,Bh4,Nbd7,d4,exd4,Nxd4,Bg6,Nb3,Bb6,Qd6,Bxc2,Be2,Bxb3,axb3,Qe7,Qg3,Qe5,Qd3,Nc5,Qc4,Rad8,Bxf6,Qxf6,b4,Ne6,b5,cxb5,Nxb5,Nc7,Nxc7,Bxc7,Qxc7,Rxe2,Qxb7,Rxb2,Qxa7,Rdd2,Qa8+,Kh7,Qe4+,g6,Qe3,Rxf2,Rxf2,Rxf2,Qxf2,Qxa1+,Kh2,Qe5+,g3,h5,Qxf7+,Kh6,Qf4+,Qxf4,gxf4,Kg7,Kg3,Kf6,h4,Kf5,Kf3,Kf6,Ke4,Ke6,Kd3', 'Kf5,Ke3,Kg4,f5,gxf5', 'https://lichess.org/training/qffgx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QFg24', 'Blitz', 'RobbyKatana', 2225, 'agus_yanto', 2219, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Ne5,c5,c3,Nc6,Bf4,Bd6,Be2,O-O,O-O,Re8,Nxc6,bxc6,Bxd6,Qxd6,dxc5,Qxc5,Nd2,Bf5,Nb3,Qd6,Bf3,Rad8,Qd2,Be4,Bxe4,Nxe4,Qc2,Qh6,Rad1,Re6,Nd4,Rg6,f3,Qe3+,Kh1', 'Ng3+,hxg3,Rh6#', 'https://lichess.org/training/QFg24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qFGrP', 'Rapid', 'arthur200708', 1823, 'KuDm', 1906, 'd4,d5,c4,dxc4,Nc3,e5,e3,exd4,exd4,Bd6,Bxc4,h6,Nf3,Nf6,O-O,O-O,h3,a6,a4,Nc6,d5,Ne5,Nxe5,Bxe5,Be3,Bf5,Re1,Bd6,Qf3,Bg6,Bd4,Bh5', 'Bxf6,Qxf6,Qxh5', 'https://lichess.org/training/qFGrP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfGZx', 'Blitz', 'Malanga', 2254, 'IM medinapaz', 2507, 'd4,Nf6,c4,Nc6,Nc3,e5,d5,Ne7,a3,Ng6,Bg5,h6,Bxf6,Qxf6,e3,Qd8,Bd3,Ne7,Nge2,d6,Qc2,g6,h4,h5,O-O-O,f5,e4,Bh6+,Kb1,f4,g3,O-O,gxf4,Bxf4,Nxf4,Rxf4,Rdg1,Kh7,Nd1,Bg4,Ne3,Bf3,Rh3,Qd7,Rhg3,Raf8,c5,R8f6,cxd6,cxd6,Qd2,Qa4,Bc2,Bxe4,Bxe4,Qxe4+,Ka1,Rxf2,Qa5,R2f3,Qc7,Qxe3', 'Qxe7+,Rf7,Qxf7+,Rxf7,Rxe3', 'https://lichess.org/training/QfGZx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfH0P', 'Rapid', 'bebyaliyah', 1994, 'Shadowkillers', 1971, 'f4,d5,Nf3,c5,e3,Nf6,Be2,Bf5,d3,e6,O-O,Bd6,Kh1,O-O,a3,h6,c3,Nc6,Nbd2,e5,fxe5,Bxd3,Bxd3,Nxe5,Nxe5,Bxe5,Nf3,Bc7,Bb1,Qd6,Qd3,Rfe8,Qf5,g6,Qh3,h5,Ng5,Ng4,Nxf7,Rf8,Bxg6,Qxg6,Qf3,Rxf7,Qxd5,Rd8,Qc4,Qf5,Rxf5', 'Rd1+,Rf1,Rxf1+,Qxf1,Rxf1#', 'https://lichess.org/training/QfH0P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QFIyD', 'Blitz', 'FM FedaMaster', 2601, 'GM NguyenDucHoa', 2669, 'e4,c5,d4,cxd4,c3,d3,Bxd3,d6,c4,g6,h3,Bg7,Nf3,Nf6,O-O,O-O,Nc3,Nc6,Be3,Be6,Rc1,h6,b3,Nd7,Bb1,Nde5,Nd2,g5,Qe2,Ng6,Nd5,Nd4,Qd3,Bxd5,exd5,e5,dxe6,Nxe6,Ne4,f5,Qd5,Qe7,Nxd6,Rad8,Rcd1,Kh8,Rfe1,Be5,c5,g4,Bxh6,gxh3,Rxe5,Qh4,Bxf8,Nef4,Bg7+,Kh7,Qf3', 'hxg2,Qxg2,Nxg2', 'https://lichess.org/training/QFIyD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QFjnR', 'Rapid', 'Gustavin', 1815, 'navy688', 1820, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,d6,d3,Nf6,Bb3,Bg4,O-O,Be7,Be3,O-O,Nbd2,d5,exd5,Nxd5,Ne4,Nf4,Bxf4,exf4,h3,Bxf3,Qxf3,Kh8,d4,f5,Nd2,Bd6,Rfe1,Qf6,Re6,Qg5,Rae1,Ne7,Qxb7,Rab8,Qf3,Ng6,Qe2,Nh4,Qf1,f3,g3,Qxd2,gxh4,Qf4,Rxd6,cxd6,Re6,Qxh4,Kh2,Qf4+,Kh1,Rbe8,Rg6,Re7,Rg1,Rf6,Qc4,Rf8,Qd5,g5,a4,g4,hxg4,fxg4,Qh5,Kg7', 'Rxg4+,Kh8,Rxf4', 'https://lichess.org/training/QFjnR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QFkCo', 'Rapid', 'nomislar', 1748, 'eronde', 1733, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Bd3,Nc6,Nxc6,bxc6,O-O,O-O,h3,Qc7,f4,e5,fxe5,dxe5,Rb1,Rb8,Qe2,Be6,b3,Nh5,Qe1,Nf4,Na4,Nxd3,cxd3,Qd7,Nc5,Qc8,Rd1,Rd8,Qg3,f5,exf5,Bxf5,Bg5,Rd4,Kh1,Rb5,Ne4,Qe6,Qh4,Rbd5,Qf2', 'Bxe4,dxe4,Rxd1', 'https://lichess.org/training/QFkCo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qfkZb', 'Rapid', 'wkoller', 1726, 'Emilien2207', 1755, 'e4,d6,f4,Nf6,h3,g6,d3,Bg7,Nc3,c5,Nf3,Nc6,Be2,O-O,O-O,a6,a4,b6,Be3,Bb7,Rb1,Qc7,Nd5,Nxd5,exd5,Nb8,c4,Nd7,b4,cxb4,Rxb4,Nc5,Qb1,Rab8,Rxb6,Nxa4,Rb4,Nc3,Qc2,a5,Bb6,Qd7,Bxa5,Ra8,Rxb7,Qxb7', 'Bxc3,Bxc3,Qxc3', 'https://lichess.org/training/qfkZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QflC3', 'Blitz', 'elger', 2089, 'GM MiroMiljkovic', 2482, 'd4,Nf6,Nf3,d5,c3,c5,g3,Nc6,Bg2,cxd4,cxd4,Bf5,Nc3,e6,a3,Be7,O-O,O-O,Re1,Rc8,Nh4,Be4,f3,Bg6,Nxg6,hxg6,Be3,Nd7,Bf2,Nb6,e4,Nc4,Qb3,N6a5,Qc2,Qd7,Rad1,Rfd8,f4,a6,exd5,exd5,Bxd5,Bf6,Qxg6', 'Qxd5,Nxd5,fxg6,Nxf6+,gxf6', 'https://lichess.org/training/QflC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfMJs', 'Rapid', 'kirillS29', 2151, 'agadou', 2161, 'e4,c5,d3,Nc6,g3,g6,Bg2,Bg7,Ne2,e5,O-O,Nge7,Nbc3,O-O,Be3,d6,Qd2,f5,Bh6,Nd4,Bxg7,Kxg7,Nd5,Nxd5,exd5,Nxe2+,Qxe2,f4,gxf4,Rxf4,f3,Qh4,Qf2,Qf6,Rae1,Bg4,Re4,Rf8', 'Rxf4,exf4,fxg4', 'https://lichess.org/training/QfMJs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qFNdF', 'Classical', 'David_I_A', 1839, 'Dsniperjr', 1759, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nf5,Be6,Bd3,Nc6,a3,g6,Ng3,a6,O-O,Nf6,Be3,Bg7,f4,exf4,Rxf4,Ne5,Be2,Bh6,Qd2,Bxf4,Bxf4,Qb6+,Be3,Qxb2', 'Bd4,Qxa1,Bxa1', 'https://lichess.org/training/qFNdF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QFnPh', 'Rapid', 'RonnieBhai', 1674, 'Adelsuscom', 1615, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d5,Bg5,Be6,Bxf6,Bxf6,cxd5,Bxd5,e4,Be6,h3,O-O,e5,Bg7,Ng5,c5,f4,cxd4,Nce4,Bf5,Bd3,Qa5+,Kf2,Nd7,Ng3,Be6,Nh5,Bh6,Nxe6,fxe6,Re1,g5,Kg1,gxf4', 'Qg4+,Kh8,Qxe6', 'https://lichess.org/training/QFnPh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfNRT', 'Rapid', 'tsvety19', 1843, 'Shamiko1321', 1742, 'd3,d5,g3,Bf5,Nf3,Nc6,Bg2,e5,O-O,e4,dxe4,dxe4,Ng5,Qxd1,Rxd1,Nf6,Nc3,h6,Ngxe4,Bxe4,Nxe4,Nxe4,Bxe4,Bd6,Be3,O-O,a3,Rfe8,Bg2,g5,b4,a6,c4,Rab8,c5,Be5,Rab1,f5,Bxc6,bxc6,Bd4,Bxd4,Rxd4,Rxe2,Ra1,Rb7,Kf1,Re4,Rxe4,fxe4,Re1,Kg7,Rxe4,Kf6,Ke2,Rb5,Kf3,a5,Rd4,axb4,axb4,Ke6,Kg4,Ke5,Rc4,Kd5,Rc2,Rxb4+,Kh5,Rc4,Rd2+,Kxc5,Kxh6,Kb4,Kxg5,Rc1,h4,c5,h5,c4,h6,c3,Rd4+,Kb3,Rd5,c2,h7', 'Rh1,Rc5,Rxh7', 'https://lichess.org/training/QfNRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qfoev', 'Rapid', 'me0', 1659, 'logaritym', 1742, 'd4,g6,Bf4,Bg7,Qd2,Nf6,Bh6,O-O,Bxg7,Kxg7,Nf3,b6,Nc3,Bb7,e3,Bxf3,gxf3,d6,f4,c5,Bg2,d5,O-O-O,e6,dxc5,bxc5,e4,d4,e5,Nd5,Nb5,Nc6,Nd6,Qa5,Qxa5,Nxa5,c3,dxc3,bxc3,Nxc3,Rd3,Ne2+,Kc2,Nxf4,Bxa8,Nxd3,Kxd3,Rxa8,Rc1,Rd8,Rxc5,Nb7,Rc6,Nxd6,Rxd6,Rxd6+,exd6,Kf8,Kd4,f6,Kc5,Ke8,Kc6,Kd8,a4,e5,a5,e4', 'Kb7,Kd7,Kxa7', 'https://lichess.org/training/qfoev');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qFoJZ', 'Classical', 'Vincenz-Grimm', 1736, 'JAMAL2400', 1794, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,Nc3,a6,O-O,Nc5,Qf3,Qb6,Nd5,Nxd5,exd5,Na4,b3,Qxd4,bxa4,Qxa4,Qb3,Qd7,Rb1,b5,c4,bxc4,Qxc4,g6,Qc6,Qxc6,dxc6,Rc8,Rb6,a5,Bd2,a4,Rfb1,Bg7,Rb8,O-O,Rxc8,Rxc8,Rb6,Rc7,Ra6,Bb2,Ba5,Rc8,c7,Kg7,g3,a3,f4,d5,Kf1,d4,Ke2,e6,Kd3,Kf6,Ra7,h5,Rb7,Bc3', 'Rb8,Rxc7,Bxc7', 'https://lichess.org/training/qFoJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfqOa', 'Blitz', 'georgemguitarist', 1898, 'Donnerwetter', 1870, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e5,Qb3,Qe7,Nd5,Qd8,Nf3,Na5,Qa4,Nxc4,Qxc4,Bd6,Bg5,f6,Be3,Ne7,Nxe7,Qxe7,Rc1,Qd8,Bxa7,Rxa7,Qxc8,O-O,Qc4+,Kh8,O-O,Qb6,Qd5,Ra6,Rc2,Ra5,Qd3,Rxa2,Rfc1,Rd8,Rc8,Be7,Qxd7,Rxb2,Qxe7', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/QfqOa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QFRVk', 'Blitz', 'Childcoach', 2023, 'evgeny2015', 1963, 'e4,b6,d4,Bb7,d5,c6,c4,cxd5,exd5,d6,Nc3,Nf6,Nf3,g6,Bg5,Bg7,Qd2,h6,Bf4,Nbd7,Bd3,g5,Be3,a6,Nd4,Ne5,Be2,Rc8,b3,O-O,Rc1,Neg4,O-O,Nxe3,Qxe3,Qd7,h3,Rfe8,Qf3,e5,Nf5,e4,Nxe4,Nxe4,Nxg7,Kxg7,Qd3,Nf6,f4,Re7,fxg5,hxg5,Rxf6,Kxf6,Bg4,Qe8,Rf1+,Kg7,Qf5,Re5,Qf6+,Kg8,Bxc8,Bxc8,Qxd6,Qe7,Qxb6,Kg7,Qd4,Kg6,d6,Qe6,c5,Bb7,d7,Rd5,d8=Q,Rxd8,Qxd8,Qe3+,Kh1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/QFRVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfSr2', 'Rapid', 'achaemenian225', 2006, 'avenger-7756', 2100, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,Qe7,Nc3,O-O,e3,Nc6,Bd3,d6,O-O,e5,d5,Nb8,e4,Bg4,h3,Bh5,a3,Bxc3,Bxc3,Nbd7,b4,b6,Re1,h6,Qe2,g5,Qe3,Bg6,Bd2,Nh5,g3,f6,h4,Kg7,Kg2,Rf7,Rh1,Raf8,Rh2,f5,hxg5,f4,gxh6+,Kh7,Qe2', 'fxg3,fxg3,Rxf3', 'https://lichess.org/training/QfSr2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qFTnX', 'Rapid', 'Shirayukihime', 2077, 'Risky_Agandi', 1993, 'd4,g6,c4,Bg7,Nc3,c6,Nf3,d6,Bf4,Nd7,e3,Ngf6,Rc1,O-O,Bd3,Nh5,Bg3,Re8,Qc2,e5,dxe5,Nxe5,Bxe5,dxe5,Rd1,Qa5,O-O,Nf6,Ne4,Nxe4,Bxe4,Qxa2', 'Ra1,Qxa1,Rxa1', 'https://lichess.org/training/qFTnX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qfUJ1', 'Blitz', 'Pegasso', 1933, 'Geeno', 1882, 'c4,e6,g3,d5,d4,Bb4+,Bd2,Be7,Nf3,Nf6,Bg2,O-O,Qc2,c6,O-O,b6,Rd1,Bb7,Bf4,Nbd7,Nbd2,Rc8,Ne5,Nh5,Ndf3,Nxf4,gxf4,Nf6,e3,Ne4,Nd2,f5,Nxe4,fxe4,Bh3,Rf6,Kh1,Rh6,Bg4,Bd6,Rg1,Bxe5,dxe5,Qh4,Rg2,Rf8,Rag1,Bc8,cxd5,cxd5,Qc6,Kh8,Qd6,Kg8,Be2,Rd8,Qc7,Bd7,Rxg7+,Kh8,R1g2,Rc8,Qxd7', 'Rc1+,Bd1,Rxd1+,Rg1,Qxh2#', 'https://lichess.org/training/qfUJ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfV2v', 'Rapid', 'purple99', 1662, 'Shah-_Mat', 1677, 'e4,e6,d4,d5,e5,c5,Bb5+,Nc6,Bxc6+,bxc6,c3,cxd4,cxd4,Bb4+,Nc3,Ne7,Qg4,O-O,Bh6,Ng6,Bg5,Qa5,Ne2,Ba6,O-O,c5,dxc5,Qxc5,Rfe1,Rab8,h4,Nxe5,Qg3,Nd3,Bh6,g6,Rab1,Nxe1,Rxe1,Rfc8', 'Qe5,Qf8,Bxf8', 'https://lichess.org/training/QfV2v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qfvjm', 'Rapid', 'ahmedturk', 1647, 'SohomSaumeep', 1689, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,Re8,Be2,d5,exd5,Nxd5,Qd2,Nf4,O-O,Nd4,Bxd4,exd4,Qxf4,Rxe2,Nxd4,g5,Qf3,Re5,Ne2', 'g4,Qf4,Rxe2', 'https://lichess.org/training/Qfvjm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qFVkM', 'Rapid', 'Bbrais', 1706, 'RakeshEd14', 1702, 'e4,c5,Nc3,Nc6,d3,e5,Bd2,Nf6,Nf3,Be7,Be2,O-O,O-O,d5,Kh1,d4,Nb1,Bg4,h3,Bh5,Nh2,Bxe2,Qxe2,Rc8,a3,a5,f4,exf4,Bxf4,Bd6,e5,Re8,Qf3,Nxe5,Bxe5,Bxe5,Nd2,Qd5,Ne4,Nxe4,dxe4,Qe6,Ng4,Bf6,Rae1,Bh4,g3,Bg5,h4,Bh6,Nxh6+,gxh6,Kh2,Re7,Qf4,Rce8,e5,Qg6,Re4,f5,exf6,Rxe4,f7+,Kg7', 'f8=Q+,Rxf8,Qxf8#', 'https://lichess.org/training/qFVkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qFWfB', 'Classical', 'mars94', 1982, 'LuisAtake', 1956, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,Nc3,Bg7,O-O,Nf6,d3,O-O,h3,b6,Ne2,Qc7,Bf4,Qd7,Ne5,Qb7,c3,Be6,Qc2,Rfd8,Rfd1,Nh5,Bh2,Bxe5,Bxe5,f6,Bh2,Ng7,e5,f5,Nf4,Qd7,d4,cxd4,Rxd4,Qe8,Rad1,g5,Nxe6,Nxe6,Qxf5,Nxd4,Qxg5+,Qg6,Qxg6+,hxg6,cxd4,e6,Kf1,c5,Ke2,Rxd4,Rxd4,cxd4,Kd3,Rd8,Bg1,Rc8,f4,Rc1,Bxd4,Rd1+,Ke3,Kh7,Bc3,Kh6,Ke2,Rc1,Kf3,Kh5,g4+,Kh4,Kg2,Rc2+,Kf3,Kxh3', 'f5,gxf5,gxf5,exf5,e6', 'https://lichess.org/training/qFWfB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QFXix', 'Rapid', 'arch496', 1646, 'Sujeeth', 1708, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,h6,O-O,Be7,c3,Nf6,Re1,O-O,d4,exd4,cxd4,Nh7,d5,Ne5,Nxe5,dxe5,Nc3,Bd6,Rf1,f5,Bd3,f4,Be2,Qg5,Bg4,Nf6,Bxc8,Raxc8,Qf3,Nh5,Ne2,Bc5,a3,a6,Kh2,Rf6,b4,Ba7,Bb2,c6,Rac1,Rff8,Qg4,Qxg4,hxg4,Nf6,f3,cxd5,exd5,Nxd5,Bxe5,Ne3,Rfe1,Rxc1,Rxc1,g5,Bd4,Bxd4,Nxd4,Rd8,Nf5,Rd2,Rc8+,Kh7,Rc7+,Kg8,Rc8+,Kf7,Rc7+,Ke8,Re7+,Kd8,Re4,Nxg2,Rd4+,Rxd4,Nxd4,Ne1,Kg1,Ke8,Nf5,Nxf3+,Kf2,Ne5,Nxh6,Nd3+,Kf3,Ne5+,Ke4,f3,Ke3,Ke7,Nf5+,Ke6,Nh6,b6,Kf2,Nc4,a4,Nd2,Ke3,Nc4+,Kxf3,Nb2,a5,Nd3,axb6,Nxb4,b7,Nc6,Nf5,a5,Nd4+', 'Nxd4+,Ke3,Nc6', 'https://lichess.org/training/QFXix');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qFY69', 'Rapid', 'checkmatee1', 1718, 'Danielitovich', 1727, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nd7,c4,Qe6,Ng5,Qxe2+,Qxe2,Bxe2,Kxe2,h6,Nf3,O-O-O,d4,e6,Nc3,Bb4,Be3,Ngf6,a3,Bxc3,bxc3,Ng4,c5,Nxe3,fxe3,c6,Rab1,g5,Rb4,Kc7,Rhb1,Rb8,Nd2,Nf6,Nc4,Nd5,R4b3,b6,e4,Nf4+,Kf3,b5,Nd6,a6,a4,Rhd8,c4,bxa4', 'Rb7+,Rxb7,Rxb7#', 'https://lichess.org/training/qFY69');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfyDf', 'Rapid', 'sanju07', 1844, 'TheCorinthianMan', 1838, 'b3,e5,Bb2,Nc6,e3,d5,Be2,f5,Nf3,Bd6,h3,Nf6,Ng5,O-O,Nxh7,Nxh7,h4,d4,Bc4+,Kh8,Qh5,Qf6,Na3,a6,O-O-O,b5,Be2,Nb4,Kb1,c5,g4,fxg4,Bxg4,Bxg4,Qxg4,Nc6,Rdg1,c4,h5,Rg8,f4,Bxa3,exd4,Bxb2,dxe5,Bxe5,fxe5,Nxe5,Qg3,Rad8,Re1,Nf7,h6,g6,Ref1,Qg5,Qc7,Ne5,Rfg1,Qxd2', 'Qxe5+,Nf6,Qxf6+', 'https://lichess.org/training/QfyDf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QFYLs', 'Rapid', 'zhenya_chornoguz', 1655, 'arpitajeee', 1611, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,g6,a3,Bg7,Nc3,Qa5,b4,Qe5,Bd2,Nd4,Bd3,Bh6,Qg3,Bxd2+,Kxd2,Qg7,Nge2,Nxe2,Bxe2,Nf6,e5,Qh6+,Qe3,Qxe3+,Kxe3,Nh5,Bxh5,gxh5,Nd5,Kd8,c4,b6,Rac1,Bb7,Nf4,Rg8,Rhg1,Rg5,Kd4,e6,h4,Rf5,g3,Ke7,c5,bxc5+,Rxc5,Rc8,Rxc8,Bxc8,Rc1,Kd8,b5,Bb7,a4,f6,exf6', 'e5+,Ke3,exf4+', 'https://lichess.org/training/QFYLs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QFyWI', 'Rapid', 'Sfide_Mentali', 2115, 'Lexus86', 1913, 'e4,e5,Nf3,Nc6,d4,exd4,c3,d5,exd5,Qxd5,cxd4,Bg4,Be2,O-O-O,Be3,Bb4+,Nc3,Nf6,O-O,Bxc3,bxc3,Bxf3,Bxf3,Ne4,Qc2,f5,c4,Nxd4,Qa4,Nxf3+,gxf3,Nc3,Qxa7,Qxf3,h4,Rd6,Kh2,Qg4,Bg5,h6', 'Qa8+,Kd7,Qxh8,hxg5,Qxg7+', 'https://lichess.org/training/QFyWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QfzHo', 'Classical', 'Torpiks', 1680, 'iwaka', 1607, 'Nf3,d5,d4,Nc6,b3,f6,Bb2,Bf5,a3,Qd6,e3,e5,dxe5,fxe5,Be2,Nf6,O-O,O-O-O,Nbd2,h5,Nh4,Ne7,Nxf5,Nxf5,c4,d4,exd4,Nxd4,Bxd4,exd4,Bd3,Ng4,g3,Be7,Bf5+,Kb8,Nf3,Rdf8,Be4,h4,Qxd4,Qxd4,Nxd4,hxg3,hxg3,Bc5,Ne6', 'Bxf2+,Rxf2,Rxf2', 'https://lichess.org/training/QfzHo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qg30y', 'Rapid', 'FilipeMarch', 1784, 'bhoomer', 1916, 'd4,e6,e4,d5,Nc3,Nf6,e5,Nfd7,Nf3,f6,exf6,Nxf6,Bg5,Be7,Bd3,b6,Ne5,O-O,Ng6,hxg6,Bxg6,Nfd7', 'Qh5,Nf6,Bxf6,Rxf6,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/Qg30y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qG3Lb', 'Rapid', 'drchainsaw', 1763, 'arsto15', 1881, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,h6,d3,d6,Na4,Bb6,Nxb6,axb6,Be3,O-O,c3,Re8,Qc2,Bg4,Nd2,d5,exd5,Nxd5,Ne4,Nce7,Bxh6,Nf5,Bd2,Nf6,Bg5,Nd6,Bxf6,gxf6,Ng3,Nxc4,dxc4,Kg7,Qe4,Qd7,f3,f5,Qd5,Qxd5,cxd5,f4,Ne4,Bf5,Rad1,Ra4,a3,Bxe4,fxe4,Rxe4,b4,Re3,Rc1,Rd8,Rfd1,Kf6,a4,Re2,c4,Rg8,g3,fxg3,hxg3,Rxg3+,Kf1,Rgg2,c5,Ref2+,Ke1,Rb2,Rc3,Rxb4,Rf3+,Ke7,d6+,cxd6,cxd6+,Kf8', 'd7,Rg1+,Rf1,Re4+,Kf2', 'https://lichess.org/training/qG3Lb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qg4fN', 'Blitz', 'MR_Salihtek', 1555, 'laid_algeria', 1976, 'e4,e5,Nf3,Nc6,Nc3,d6,Bb5,Bd7,d4,exd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,O-O-O,O-O,f5,Bg5,Be7,Bxe7,Nxe7,Rae1,fxe4,Nxe4,Nc6,Qc3,Qg4,h3,Qg6,Re3,Rhf8,Rg3,Qxe4,Rxg7,Rg8,Rxg8,Rxg8,f3,Qg6,g4,Ne5,f4,Nf7,f5,Qg5,Qc4,Nh6,Qe6+,Kb8,Re1,Nxg4', 'Qe8+,Qd8,Qxd8+,Rxd8,hxg4', 'https://lichess.org/training/qg4fN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QG4oJ', 'Classical', 'OmbreBlanche', 2047, 'Itigran', 2042, 'd4,Nf6,c4,c5,d5,e5,Nc3,e4,Qc2,Qe7,Bg5,d6,Nxe4', 'Qxe4,Qxe4+,Nxe4', 'https://lichess.org/training/QG4oJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qg6Ra', 'Rapid', 'kagisogrant', 1680, 'tobings', 1703, 'd4,d5,c4,e6,Nc3,Nf6,e3,Bb4,Bd2,Nc6,a3,Be7,c5,O-O,Nf3,b6,cxb6,cxb6,Bb5,Bb7,O-O,Qc7,g3,a6,Bd3,h6,Qc2,Bd6,e4,dxe4,Nxe4,Nxe4,Bxe4,Rac8,Rac1,Qd7,Qb3,b5,d5,exd5,Bxd5,Ne5,Bxb7,Qxb7,Rxc8', 'Nxf3+,Qxf3,Qxf3', 'https://lichess.org/training/Qg6Ra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QG7hX', 'Rapid', 'dannyappleseed', 1802, 'kikirov', 1800, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,Bb4,e5,f6,exf6,Nxf6,Ne5,O-O,Bd3,h6,O-O,Bxc3,bxc3,Nh7,Qh5,Qf6,Ba3,d6,Rae1,dxe5,Bxf8,Qxf8,Rxe5,Qf6,Qe8+,Nf8,f4,Nd7,Qh5,Nxe5,fxe5,Qg5', 'Qf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/QG7hX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qg8w5', 'Rapid', 'ha100790tag', 1671, 'ArtGarden', 1611, 'g3,d5,Bg2,e5,e3,e4,Ne2,Nf6,O-O,b6,d3,exd3,Qxd3,Bb7,Nf4,Bc5,c4,dxc4', 'Qxd8+,Kxd8,Bxb7', 'https://lichess.org/training/qg8w5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QgaaR', 'Classical', 'peskey', 1844, 'c-Goldkuhle', 1929, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,Nc3,d6,Be2,Bd7,Qd2,Qa5,O-O-O,a6,Nxc6,Bxc6,f3,Rc8,Kb1,Bd7,Bd4,Nf6,g4,O-O,h4,h5,Rdg1,Be6,g5,Rxc3,Qxc3,Qxa2+,Kc1,Ne8,Kd2,Qa4,Ra1', 'Qxd4+,Qxd4,Bxd4', 'https://lichess.org/training/QgaaR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGB8f', 'Rapid', 'TecoFerreira', 1772, 'enocent', 1722, 'e4,e5,Nf3,d6,d4,Qe7,d5,h6,Nc3,a6,Bd3,Nf6,O-O,Nh7,h3,Qf6,Be3,Be7,Nh2,Nd7,f4,O-O,Ng4,Qg6,f5,Qh5,Be2,Kh8,Nxe5,Qh4,Nf3,Qh5,Qe1,f6,Ne5,Qe8,Ng6+,Kg8,Nxf8,Qxf8,Qg3,Ng5,h4,Ne5,hxg5,fxg5,Bd4,Bf6,Bxe5,Bxe5,Qd3,c5,dxc6,bxc6,Qc4+,Kh8,Qxc6,Rb8,Rab1,Bb7,Qa4,Qf7,Qc4,Qd7,Qe6,Qc6,Rfd1,Re8,Qd5', 'Qb6+,Kf1,Bxd5', 'https://lichess.org/training/qGB8f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qgBOP', 'Rapid', 'Dd0mino2', 1959, 'andremart', 1996, 'e4,d5,e5,c5,c3,d4,d3,Nc6,f4,b6,Nf3,Bb7,Be2,g6,O-O,Bg7,Nbd2,Qd5,Ne4,Nh6,c4,Qd7,a3,O-O,Nh4,Nd8,f5,Nxf5,Bg4,e6,Nf6+,Bxf6,exf6,Nxh4,Qe1,Qc6,Bf3,Nxf3+,Rxf3,Qd6,Qh4,Qe5', 'Qh6,Qxf6,Rxf6', 'https://lichess.org/training/qgBOP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qgC5p', 'Rapid', 'SchachChef', 1797, 'DrJay', 1828, 'd4,d5,c4,dxc4,Nc3,e6,e4,Nc6,Be3,Bb4,Bxc4,Nf6,e5,Ne4,Qd3,Nxe5,dxe5,Nxc3,bxc3', 'Qxd3,Bxd3,Bxc3+,Ke2,Bxa1', 'https://lichess.org/training/qgC5p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGd0m', 'Blitz', 'FM DailyInsanity', 2523, 'pd159', 2235, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Qe7,Qe2,Nd5,g3,g6,c4,Ba6,b3,Bg7,Bb2,O-O-O,Bg2,Rhe8,O-O,Bxe5,Bxe5,Qxe5,Qxe5,Rxe5,cxd5,Bxf1,Kxf1,cxd5,f4,Rf5,Nc3,c6,h4,Re8,Kf2,h6,Ne2,Rf6,Nd4,g5,f5,c5,Rc1,d6,Bh3,Kb7,Nf3,gxh4,gxh4,a5,h5,Re4,Nd2,Rh4,Kg3,Rxh5,Nf3,Rhxf5,Bxf5,Rxf5,Rh1,Rf6,Rh4,Kb6,Kf2,d4,Ke2,Kb5,Nd2,Kb4,Kd3,Rg6,Rh2,d5,Kc2,Rg3,Kb2,c4,a3+,Kc5,Kc2,Rc3+,Kb2,Rg3,bxc4,dxc4', 'Ne4+,Kd5,Nxg3', 'https://lichess.org/training/qGd0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qgdBE', 'Blitz', 'BlueMoon65', 1537, 'vl1987adimir', 1632, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e5,Bc4,h6,O-O,Nf6,Qe2,Bc5,Rd1,O-O,Be3,Qb6,Bxc5,Qxc5,Bb3,b6,Rac1,Bb7,Nd5,Qd6,Nxb6,Qxd1+,Rxd1,axb6,h3,Rfe8,Nh4,Nd4,Qc4,Nxb3,axb3,Bxe4,Qc7,b5,Nf3,Rac8,Qb6,Bc6,Qe3,e4,Nd4,Bb7,Nxb5,Rc2,Nd6,Rb8,Nxb7,Rxb7,Ra1,Rxb2,Ra8+,Kh7,Qd4,R2xb3,Rf8,d5,Kh2,R3b4,Qe5,d4,Qf5+,g6,Qc8,d3', 'Rh8+,Kg7,Qf8#', 'https://lichess.org/training/qgdBE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGdJZ', 'Rapid', 'lalalalong', 1672, 'pranjal1006', 1666, 'd4,Nf6,Bf4,d5,e3,Bf5,Nc3,e6,a3,c5,Bb5+,Nbd7,h3,cxd4,Qxd4,Bxc2,Nge2,Be7,Rc1,Bg6,Be5,O-O,Bxd7,Qxd7,Nf4,Bf5,g4,Be4,Nxe4,dxe4', 'Bxf6,Qxd4,Bxd4', 'https://lichess.org/training/qGdJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QgDLH', 'Classical', 'chupa16', 1941, 'rnkolnffd', 1885, 'e4,d5,exd5,Nf6,d4,Nxd5,Be2,g6,c4,Nb6,Nf3,Bg7,O-O,O-O,a4,Nc6,a5,Nd7,Nc3,e5,dxe5,Ndxe5,Qxd8,Rxd8,Nd5,Nxf3+,Bxf3,Nd4,Bd1,c6,Bg5,Rd6,Ne7+,Kf8,Nxc8,Rxc8,Bg4,f5,Rfe1,Ne6,c5,Nxg5,cxd6,fxg4,Rad1,Rd8,Re7,Bxb2,Rxb7,Ba3,Rxa7,Rxd6,Rxd6,Bxd6,Ra6,Bc7,Rxc6,Bxa5,Rc4,h5,Rc5,Bd8,Rd5,Ke8,Rd6,Ne4,Rxg6,Kf7,Ra6,Bf6,Kf1,Kg6,Ke2,Ng5,f3,gxf3+,gxf3,Nh3,Ke3,Kg5,Ra5+,Kg6,Ra6,Kf5,Ra8,Be5,Ra2,Nf4,h4,Ng6,Ra4,Bf4+,Kf2,Nxh4,Ra5+,Be5,Ke3,Ng6,Ra7,h4,Rf7+,Kg5,Kf2,Bg3+,Kg2,Nf4+,Kh1,h3,Rg7+,Kh4', 'Rg4+,Kh5,Rxg3', 'https://lichess.org/training/QgDLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QGERv', 'Blitz', 'IvanPastorLope82', 2102, 'abeljusto', 2153, 'e4,Nf6,e5,Nd5,g3,d6,exd6,Qxd6,Bg2,Nc6,Ne2,Bg4,O-O,O-O-O,Nbc3,Nxc3,bxc3,h5,a4,h4,h3,Bxe2,Qxe2,hxg3,fxg3,Qxg3,Rxf7,e5,Qe3,Rxh3,Qxg3,Rxg3,Kf2,Rg6,d3,Bc5+,Kf1,Rh8,Ba3,Be3,Re1,Bd2,Re2,Bxc3,Bc5,Nd4,Rxe5,Ne6,Rd5,Rh2,Be7,Rgxg2', 'Rf8+,Nxf8,Rd8#', 'https://lichess.org/training/QGERv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qgeXj', 'Rapid', 'folate', 1835, 'Lasse_S', 2060, 'e4,e6,Nf3,d5,e5,c5,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,c4,Qc7,Bf4,Bb4+,Nd2,Ne7,a3,Bxd2+,Qxd2,Ng6,Qe3,O-O,Bd3,Ba6,b3,Rab8,Rb1,Qa5+,b4,Qxa3,O-O,Nxf4', 'Bxh7+,Kxh7,Qxa3', 'https://lichess.org/training/qgeXj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGfy3', 'Blitz', 'Gargonchess', 2190, 'talcapa', 2197, 'd4,d6,Nc3,g6,Bf4,h5,e4,Nf6,Nf3,Bh6,Bxh6,Rxh6,Qd2,Rh7,Bc4,c6,Ng5,Rg7,O-O-O,d5,exd5,cxd5,Bb5+,Nc6,Rhe1,Kf8,Bxc6,bxc6,Re5,Rb8,Rde1,e6,f3,Ba6,g4,hxg4,Rxe6,Qb6,Rxf6', 'Qxb2+,Kd1,Qa1+,Qc1,Qxc3', 'https://lichess.org/training/qGfy3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QGg8b', 'Rapid', 'stephg', 1696, 'vyktor', 1749, 'd4,d5,c4,e6,f3,Nf6,e4,dxe4,fxe4,Be7,Nc3,h6,Nf3,O-O,Be2,Nbd7,O-O,a6,Bf4,c5,d5,exd5,cxd5,Re8,Rc1,b6,b3,Nf8,e5,Ng4,d6,Bg5,Bxg5,hxg5,Qd2,Nxe5,Nxe5,Rxe5,Bf3,Rb8,Ne4,Ne6,Qd3,Bb7,Bh5,Bxe4,Bxf7+,Kh8,Qh3+,Bh7,Bg6,Nf8', 'Rxf8+,Qxf8,Qxh7#', 'https://lichess.org/training/QGg8b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGgSA', 'Rapid', 'ABooSHOOsh', 1837, 'gvic1', 1817, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,Bg7,Bxf6,Bxf6,Nxd5,e6,Nxf6+,Qxf6,Nf3,O-O,e3,c5,Be2,Nc6,b3,cxd4,exd4,Rd8,d5,exd5,cxd5,Be6,d6,Qc3+,Kf1,Qb4,a3,Qxd6,Qxd6,Rxd6,b4,Nd4,Nxd4,Rxd4,g3,Rad8,Kg2,Bd5+,Bf3,Rd3,Bxd5,R8xd5,Rhc1,a5,bxa5,Rxa5,Rc7,b5,Rc5,Kg7,Rb1,Rdxa3,Rbxb5,Rxb5,Rxb5,h5,h4,f5,Rb4,Rd3,Rf4,Kf6,Ra4,Kg7,Kh3,Kh6,Rf4,Rd1,f3,Rd5,g4,g5,Rxf5,Rxf5', 'gxf5,gxh4,Kxh4', 'https://lichess.org/training/qGgSA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QGigJ', 'Blitz', 'NM mnmassari', 2224, 'jockertheblack11', 2126, 'd4,g6,c4,Bg7,Nf3,e6,Nc3,Ne7,e4,d5,e5,c6,cxd5,Nxd5,Ne4,O-O,Bc4,Nd7,O-O,N7b6,Bb3,Bd7,h4,Rc8,Nfg5,h6,Nh3,Kh7,Nc5,Qc7,f4,Be8,h5,Nd7,Nxd7,Qxd7,Bc2,c5,dxc5,Rxc5,Be4,Qb5,hxg6+,fxg6,Qg4,Qc4,Re1,Ne7,Bd2,Nf5,Rac1', 'Qd4+,Kh2,Qxd2', 'https://lichess.org/training/QGigJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QGIYV', 'Blitz', 'FM AlainBruxelles', 2289, 'Kukarachenko', 2237, 'Nf3,d5,g3,c6,Bg2,Bf5,O-O,e6,d3,Nd7,Nbd2,Ngf6,Qe1,h6,e4,Bg6,h3,dxe4,dxe4,e5,Nc4,Qc7,Nh4,Bh7,Nf5,Bxf5,exf5,Be7,Qe2,O-O,Re1,Bd6,Nxd6,Qxd6,Be3,Rfe8,Rad1,Qc7,g4,Nb6,h4,Nfd5,g5,Nxe3,Qxe3,hxg5,hxg5,Rad8,Be4,Nd5,Qg3,Nf4,g6', 'Rxd1,Rxd1,Ne2+,Kh2,Nxg3', 'https://lichess.org/training/QGIYV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGJ1w', 'Blitz', 'Boydia-Sidi', 2354, 'surovi', 2377, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Nc6,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qa5,Nxe4,Be6,Neg5,O-O-O,Nxe6,fxe6,Rxe6,Bd6,Bg5,Rde8,Qe2,Kd7,Rxe8,Rxe8,Qd3,g6,a3,Qd5,c3,Qe4,Qc4,dxc3,Qxc3,Ne5,Nxe5+,Qxe5,Qxe5,Rxe5,Be3,Rb5,b4,a5,bxa5,Rxa5,Bc1,b5,Bb2,c5,Kf1,Ra4,Ke2,Kc6,Kd3,h5,Kc2,Bxh2,g3,h4,gxh4,Rxh4,Re1,Kd5,Rd1+,Kc4,Re1,Rf4,Re2,Rf3,Bc1,b4,axb4,cxb4,Be3,b3+,Kb2,Be5+,Kb1,Rh3,Re1,Bc3,Rc1,Kb4,Rd1,Rh5,Rg1,Ra5,Rg4+,Ka3,Bc1+,b2,Bxb2+,Bxb2,Rg3+,Kb4,Kxb2,g5', 'Rg4+,Kb5,Rxg5+,Kb6,Rxa5', 'https://lichess.org/training/qGJ1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qgkc6', 'Rapid', 'nemur19', 1740, 'BreakingParallel', 1679, 'e4,e5,Qf3,f6,Bc4,Nc6,c3,f5,Qxf5', 'd5,Qh5+,g6,Qe2,dxc4', 'https://lichess.org/training/Qgkc6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGKfw', 'Rapid', 'white_slonik', 2127, 'chambofish', 2174, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bc4,b5,Bb3,Bb7,Nc3,Nc6,Be3,Qc7,O-O,Nf6,Qd2,Bb4,Nde2,O-O,a3,Ba5,f3,Rfd8,Bc5,d5,exd5,Ne5,Bd4,Nxd5,Bxd5,Bxd5,Qf4,Bb6,Kh1,Bxd4,Nxd4,Rac8,Rfe1,Nc4,Nxd5,exd5,Qxc7,Rxc7,b3,Nd6,Re5,Ne8,Rae1,Nf6,h3,g6,g4,Kg7,Re7,Rdd7', 'Ne6+,Kg8,Nxc7', 'https://lichess.org/training/qGKfw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGkZ4', 'Rapid', 'Messedupagain', 1857, 'muntermacher', 1812, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Qa5,Bd3,Nb6,a3,cxd4,Nxd4,Nxd4,Bxd4,Bc5,b4,Bxb4,axb4,Qxb4,Bb5+,Bd7,Bxd7+,Nxd7,Rb1,Qe7,Nb5,O-O,Nd6,b6,O-O,Nc5,Bxc5,bxc5,Rb7,Qh4,g3,Qh3,Qb1,a5,Qb5,a4,Qxc5,a3,Qc3,a2,Qb2', 'Qxf1+,Kxf1,a1=Q+,Qxa1,Rxa1+', 'https://lichess.org/training/qGkZ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QGL4B', 'Rapid', 'YotKing', 1867, 'p9738', 1851, 'e4,c6,Nf3,g6,d4,Bg7,Nc3,d5,exd5,cxd5,Bb5+,Nc6,O-O,a6,Ba4,Nf6,Ne5,Qd6,Nxc6,bxc6,Bf4,Qd7,Be5,O-O,f3,Qb7,Rb1,Bf5,g4,Be6,b4,Qd7,a3,Nxg4,fxg4,Bxg4,Qe1,Bh3,Rf3,f6,Bf4,e5,dxe5,fxe5,Rxh3,Qxh3,Bxe5,Rae8,Qg3,Qxg3+,Bxg3,Bxc3,Bxc6,Rd8,Bc7,Rc8,Bxd5+,Kg7,Bg3,Bd4+,Kg2,Rxc2+,Kh3,h5,Rd1,Bb2,a4,g5,Bb3,g4+,Kh4,Kh6', 'Rd6+,Bf6+,Rxf6+,Rxf6,Bxc2', 'https://lichess.org/training/QGL4B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGMJc', 'Rapid', 'hickok45', 1725, 'ramstein', 1891, 'e4,e5,Nf3,Nc6,Nc3,d6,Bc4,Be7,O-O,Nf6,d3,O-O,Bg5,a6,Bxf6,Bxf6,Nd5,b5,Nxf6+,Qxf6,Bd5,Bb7,Bxc6,Bxc6,Qd2,d5,exd5,Bxd5,Ng5,h6,Nh3,Qc6,f3,f5,Nf2,Rf6,b3,Raf8,c4,bxc4,dxc4,Be6,Qe3,g5,Qxe5,Bc8,Rad1,Bb7,Nd3,g4,Nb4', 'Qb6+,Rf2,Qxb4', 'https://lichess.org/training/qGMJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QgMXU', 'Blitz', 'Blackvip1987', 1516, 'pat2er', 2179, 'd4,d5,e3,Nf6,c4,c6,cxd5,cxd5,Bb5+,Bd7,Bxd7+,Nbxd7,Nf3,e6,O-O,Bd6,Ne5,Nxe5,dxe5,Bxe5,f4,Bd6,Nc3,O-O,Bd2,Rc8,Nb5,Bb8,a4,a6,Nd4,Ne4,b4,e5,fxe5,Bxe5,b5,Rc4,Rc1,Rxd4,exd4,Bxd4+,Kh1,Qh4,Qf3,Nxd2', 'Qxf7+,Rxf7,Rc8+,Qd8,Rxd8+,Rf8,Rfxf8#', 'https://lichess.org/training/QgMXU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qgn1o', 'Blitz', 'walli82', 2295, 'Machin-Pena', 2325, 'e4,d5,d4,dxe4,Nc3,Bf5,f3,Nf6,g4,Bg6,g5,Nd5,f4,Nxc3,bxc3,e6,h4,c5,Bb5+,Nc6,Ne2,a6,Bxc6+,bxc6,h5,Bf5,Ng3,cxd4,cxd4,Bb4+,Kf2,Bc3,Be3,Bxa1,Qxa1,Qa5,h6,g6,d5,Rg8,d6,Rd8,Rd1,Qa3,Qe5,Qxa2,d7+,Rxd7,Rxd7,Kxd7,Qd4+,Qd5,Qa7+,Kd6,c4,Qxc4,Bd4,Qc2+,Ne2,Bg4', 'Be5+,Kd5,Qd4#', 'https://lichess.org/training/Qgn1o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGNvi', 'Rapid', 'simplemmaann', 1775, 'kingcharlie', 1785, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,e6,O-O,a6,c4,Nbd7,cxd5,Nxd5,Nc3,N7b6,Bg5,Be7,Bxe7,Nxe7,Ne5,O-O,Qh5,g6,Qe2,Qxd4,Rad1,Qh4,Qf3,Nbd5,g3,Qf6,Nxd5,Qxf3', 'Nxe7+,Kg7,Nxf3', 'https://lichess.org/training/qGNvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QGO3c', 'Classical', 'chennis', 1813, 'Boviced', 1767, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,Be7,O-O,Qd7,Rad1,h6,Bh4,g5,Bg3,Nh5,Rd3,O-O-O,Rfd1,b6,e5,Nxg3,fxg3,d5,Nxd5', 'Bc5,Qxc5,bxc5', 'https://lichess.org/training/QGO3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGO43', 'Rapid', 'jonnyG', 1664, '_Adrien_', 1809, 'e4,c5,Bc4,e6,Qf3,Nc6,Ne2,Nf6,d3,d5,exd5,exd5,Bb5,Bg4,Bxc6+,bxc6,Qg3,Bxe2,Kxe2,g6,Bg5,Bg7,Re1,O-O,Nc3,Qa5,Kd1,Nh5,Qd6,Bxc3,bxc3,Qxc3,Rb1,Rfe8,Bd2,Rxe1+,Bxe1,Qd4,Qxc6,Nf4,Qxa8+,Kg7,Qxa7,Nxg2,Qe7,c4,Rb7,Qa1+,Ke2,cxd3+,Kf3,Nxe1+,Kg3,Qf6,Qxe1,dxc2,Rc7', 'Qd6+,Kg2,Qxc7', 'https://lichess.org/training/qGO43');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qgORo', 'Rapid', 'mikeraya', 2057, 'mohamat54', 1807, 'd4,Nf6,Bf4,d5,e3,e6,Nd2,Nc6,c3,e5,dxe5,Nxe5,h3,Bd6,Bg5,h6,Bh4,Be7,Bg3,Qd6,Ngf3,Nxf3+,Nxf3,Qc6,a4,O-O,Bd3,Bd6,Ne5,Qb6,Qd2,c6,O-O,Qc7,f4,c5,Bc2,c4,Bh2,Qb6,Kh1,Bc5,Rfe1,Re8,Bg1,Nh5,Bf2,Be6,Re2,f6,Ng6,Bf7,Nh4,Re7,g4,Ng3+,Bxg3,Bxe3,Qe1,Rae8,Nf5,d4,cxd4,Qc6+,Kh2', 'Bg1+,Kxg1,Rxe2', 'https://lichess.org/training/qgORo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qgOw5', 'Rapid', 'simimonimon', 1673, 'MasterPawan', 1666, 'd4,c5,d5,d6,e4,e6,Nc3,Qh4,Nf3,Qh5,Be2,Qg6,O-O,Nf6,Bd3,e5,Nb5,Na6,c4,Bh3,Nh4,Qg4,Qxg4,Bxg4,Bg5,Be7,a4,h6,Be3,g5,Nf5,Bxf5,exf5,g4,f4,h5,Bf2,O-O-O,Bh4,Kb8,g3,Rde8,Bxf6,Bxf6,Nxd6,Ref8,Rfe1,exf4,gxf4,Bxb2,Rab1,Bd4+,Kg2,Nb4,Bf1,f6,Re6,h4,Nb5,h3+,Kg3,a6,Nxd4,Nxd5,cxd5,cxd4,Bxa6,Rf7,Bc4,Rc7,Rb4,Rhc8,Ba6,Ka7,Bxb7,Rxb7,Rxb7+,Kxb7,a5,d3,Rb6+,Ka7,Rb3', 'd2,Rd3,Rc3,Rxc3,d1=Q', 'https://lichess.org/training/qgOw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QGqAv', 'Blitz', 'rodf', 1739, 'Rutav', 1735, 'e4,e5,Nf3,Nf6,d3,Bc5,Be2,Ng4,O-O,h5,h3,Qf6,Bg5,Qg6,Qd2,d6,Nc3,Be6,a3,Bd4,Nxd4,exd4,Nb5,Na6,Nxd4,c5,Nxe6,Qxe6,f3,f6,Bf4,g5,Bh2,Nxh2,Kxh2,Qe5+,Kg1,g4,f4,Qd4+,Kh2,h4,c3,g3+,Kh1,Qa4,e5,fxe5,fxe5,O-O-O,Bg4+,Kc7,Rf7+,Rd7,exd6+,Kxd6,Qf4+,Kc6,Bf3+,Kb6,Rxd7,Qxf4', 'Rxb7+,Ka5,b4+,Ka4,Bd1#', 'https://lichess.org/training/QGqAv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGqi2', 'Blitz', 'aalpsoy', 1540, 'YousifMoustafa', 1560, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,Nbd7,f3,e5,d5,a5,b3,Nc5,Be3,O-O,Bc2,Nh5,Qd2,Nf4,Nge2,Nh5,Bh6,f5,Bxg7,Kxg7,O-O,f4,a3,Bd7,b4,Na6,c5,axb4,axb4,Nxb4,cxd6,Rxa1,Rxa1,cxd6,Rb1,Nxc2,Qxc2,Qc8,Qb3,Qd8,Nb5,Qg5,Nec3,Bh3,Rb2,Bd7,Nxd6,Ng3,hxg3,fxg3,Qxb7', 'Qc1+,Nd1,Qxd1#', 'https://lichess.org/training/qGqi2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QgrFy', 'Classical', 'MR_TR', 1881, 'Abdulelah1985', 1880, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Bf4,g6,Nxc6,bxc6,Qd4,e5,Bxe5,dxe5,Qxe5+,Qe7,Qxh8,Nf6,O-O-O,Bd7,Bc4,O-O-O,Bxa6+,Kb8,e5', 'Bh6+,Kb1,Rxh8', 'https://lichess.org/training/QgrFy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qgRrC', 'Blitz', 'IM Schachtrainer-Schuh', 2459, 'TULI_BeLajAr', 2183, 'e4,e5,d4,exd4,c3,d5,exd5,Qxd5,cxd4,Nc6,Be3,Nf6,Nc3,Bb4,Bd3,Qxg2,Qf3,Bh3,Qxh3,Qxh1,O-O-O,Bxc3,bxc3,Qd5,Kb2,Na5,Ne2,Nc4+,Ka1,Nxe3,fxe3,O-O,Rg1,Rfe8,Qh4,Qd6,e4,Nd7', 'e5,Nxe5,Qxh7+', 'https://lichess.org/training/qgRrC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QGSA0', 'Rapid', 'Capablanca97', 1849, 'debatecheess', 1715, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,c3,d6,d4,Bb6,Bg5,O-O,d5,Na5,Be2,h6,Bxf6,Qxf6,b4,h5,Qd2,Bg4,bxa5,Bxa5,Qd3,h4,h3,Bh5,Nh2,Bg6,Ng4,Qg5,Qd2,Qd8,f3,Bb6+,Ne3', 'Qg5', 'https://lichess.org/training/QGSA0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QgSBe', 'Classical', 'VincV', 1745, 'perycool', 1753, 'e4,c5,Bc4,Nc6,Nf3,a6,a3,d6,c3,Nf6,d3,Bg4,h3,Bxf3,Qxf3,Ne5,Qg3,Nxc4,dxc4,g6,f3,Bg7,O-O,Qd7,Be3,Qe6,Nd2,b5,cxb5,axb5,Qh4,O-O,Bh6,Nd7,Bxg7,Kxg7,f4,f6,f5,gxf5,Rxf5,Rg8,Rh5,Nf8,Rf1,Kh8,Rff5,Rg7,Rh6,Ng6,Qf2,Rag8,Rfh5,Nf8,Qf3,Rxg2+,Qxg2,Rxg2+,Kxg2,Qf7,Kf3,Qe6,b3,Qf7,Ke3,Qg7,b4,Qg3+,Nf3,cxb4,axb4,e5,Rxf6,Ng6,Rf7,Kg8,Rhxh7,Nf4,Rhg7+,Qxg7,Rxg7+,Kxg7,h4,Kh6,c4,bxc4,b5,Ne6,b6,Nc5,Nd2,c3,Nc4,c2', 'Kd2,Nxe4+,Kxc2,Nc5,Nxd6', 'https://lichess.org/training/QgSBe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QGsc6', 'Rapid', 'Al_Tag', 1808, 'Anmonika', 1935, 'e4,e6,d4,b6,c4,Bb7,Nc3,Bb4,e5,Bxc3+,bxc3,d6,Ba3,dxe5,Nf3,e4,Ne5,f6', 'Qh5+,g6,Nxg6', 'https://lichess.org/training/QGsc6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QgTsh', 'Rapid', 'omara33718', 1859, 'syd-barrett', 1714, 'e4,e6,Nf3,Qe7,d4,b6,Bc4,Bb7,Nc3,d5,exd5,exd5+,Be2,Nd7,O-O,O-O-O,Ne5,f6,Nxd7,Rxd7,Bg4,Kb8,Bxd7,Qxd7,Bf4,Bd6,Bxd6,Qxd6,Re1,Nh6,Qe2,f5,Qe5,Qg6,h3,Nf7,Qe6,Qh5,Ne2,Ng5,Qxf5,g6,Qg4,Qh6,Nf4,Bc8,Qg3,Ne4,Rxe4,dxe4,Re1,Bf5,Nd5,Rc8,c4,Qg7,Qe5,Qh6,Ne7,Rf8,Qd5,Qd2,Nc6+,Kc8,Rf1,e3,fxe3,Qxe3+,Kh1,Qe2,Nxa7+,Kb8,Nc6+,Kc8,Rg1,Be4,Ne7+,Kb8,Qg5,Bxg2+,Qxg2,Qxe7,d5,Qe3,b3,Rf2,Qg4,Rf4,Qg2,Rf2,Qg3,Rf3,Qe1', 'Rxh3+,Kg2,Qf3#', 'https://lichess.org/training/QgTsh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QgTUV', 'Blitz', 'NM ZugAddict', 2206, 'DUNI', 1608, 'e4,d5,exd5,c6,Nc3,cxd5,d4,Nc6,Nf3,Bg4,Bf4,e6,Bb5,a6,Ba4,b5,Bb3,Bd6,Ne2,Bxf3,gxf3,Qc7,Bg3,Nf6,c3,Na5,Bc2,Nh5,Qc1,Nxg3,hxg3,h6,Kf1,Nc4,b3,Nb6,Bd3,O-O,Kg2,Rac8,Qe3,e5,dxe5,Bxe5,f4,Bf6,Nd4,Rfe8,Qf3,Qxc3,Nf5,d4,Rad1,Qc6,Nxh6+,Kf8,Ng4,Qxf3+,Kxf3,Rc3,Rh8+,Ke7,Re1+,Kd7,Rhxe8,Rxd3+,Kg2,Rd2,Nxf6+,gxf6,R1e7+,Kd6,Rxf7,Nd5,Rd8+,Ke6,Ra7,Ne3+,Kf3,Nd1,Rxa6+,Kf5,Rb8', 'Rxf2#', 'https://lichess.org/training/QgTUV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qgtX1', 'Classical', 'bigkahuna_burger', 1676, 'Makelchess', 1707, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Bc4,Ngf6,Qf3,e6,Ne2,Qe7,Bg5,Qb4+,Qc3', 'Nxe4,Qxb4,Bxb4+', 'https://lichess.org/training/qgtX1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QGVPf', 'Rapid', 'ralfjoseflieb', 1902, 'hologogoloh', 1933, 'e4,d6,d4,Nf6,Nc3,Nbd7,Bd3,e5,Nge2,c6,O-O,b5,dxe5,dxe5,Ng3,Qc7,a3,Be7,b3,a6,Bb2,Nf8,Nce2,h5,c4,g5,Nc3,Ng6,cxb5,axb5,Rc1,Nf4,Nxb5,Qb8,Nc3,h4,Nge2,N6h5,Nxf4,gxf4,Na4,Rg8,Rxc6,Bh3,g3,hxg3,fxg3,fxg3,Qxh5,Qa7+,Rb6,Qxa4,Bb5+,Kf8,Qh6+,Rg7,Bxa4,Bc5+,Kh1', 'g2#', 'https://lichess.org/training/QGVPf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QgWjN', 'Rapid', 'scarface20', 2094, 'MAN123456789', 2018, 'b3,e5,Bb2,d6,e3,Nf6,Nf3,Be7,c4,O-O,Nc3,c6,Be2,Nbd7,O-O,Qb6,h3,a5,a4,Rd8,d4,Nf8,Qc2,Ng6,Rad1,Qc7,dxe5,dxe5,Ne4,Nxe4,Qxe4,Be6,Nxe5,Rxd1,Rxd1,f5,Qd4,Rd8,Nd7,Bf8,Qb6', 'Rxd7,Qxc7,Rxc7', 'https://lichess.org/training/QgWjN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QGxgW', 'Rapid', 'Good_mistake', 2259, 'Kristian_Caditan', 2257, 'd4,Nf6,Bf4,c5,Nf3,d5,e3,Qb6,b3,Nc6,c3,Bg4,Bd3,e6,Nbd2,cxd4,exd4,Qa5,Qc2,Rc8,Qb2,Ba3,Qc2,Bxf3,Nxf3,Ne4,Bd2,O-O,O-O,Nxd2,Qxd2,h6,Rfd1,Rfe8,Ne5,Bd6,Nxc6,Rxc6,Rac1,Ba3,Rc2,Qd8,c4,Bd6,c5,Bc7,Bb5,Qh4,g3,Qh3,Bxc6,bxc6,f4,f6,Qg2,Qg4,Qe2,Qh3,Qg2,Qf5,Re1,e5,fxe5,fxe5,Rf2,Qd3,dxe5,Bxe5,Qf3,Qxf3,Rxf3,Bd4+,Kf1,Rxe1+,Kxe1,Bxc5,Rc3', 'Bb4,Ke2,Bxc3', 'https://lichess.org/training/QGxgW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGxKb', 'Rapid', 'alex204', 2080, 'Chesspatzeruk-TWITCH', 2161, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bc4,e6,Bb3,Be7,Be3,O-O,f3,Nbd7,Qd2,Nc5,O-O-O,Qc7,g4,b5,g5,Nxb3+,Nxb3,Nd7,h4,Ne5,f4,Nc4,Qf2,b4,Ne2,Bb7,Ng3,Rac8,Nd4,Nxe3,Qxe3,e5,fxe5,dxe5,Ngf5,exd4,Nxe7+,Qxe7,Rxd4,Qc5,Qd3,a5,Rh2,a4,Rd2,b3,axb3,a3,bxa3,Qxa3+,Kb1,Ra8,Qc3,Qa2+,Kc1,Rfc8', 'Qxc8+,Rxc8,Rd8+,Rxd8,Rxd8#', 'https://lichess.org/training/qGxKb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QgxZi', 'Rapid', 'ghosalari11', 1874, 'RxstId', 1910, 'e4,c6,Nf3,d5,Nc3,Nd7,exd5,cxd5,Nxd5,Nb6,Nc3,Nf6,Bb5+,Bd7,Qe2,Nbd5,Nxd5,Nxd5,d4', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/QgxZi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QgYBv', 'Rapid', 'gusgc', 1878, 'Samuel19th', 1912, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Bd7,Be3,e6,f4,a6,Bd3,Nf6,Qf3,Be7,g4,Nxd4,Bxd4,e5,fxe5,Bxg4,Qg3,dxe5,Bxe5,O-O,h3,Bh5,Rg1,Bg6,O-O-O,Qb6,Bxf6,Bxf6,e5,Be7,h4,Bxh4,Qxh4,Bxd3,cxd3,Qe3+,Kb1,Qxe5,Rh1,h6,Rdg1,Kh7,Ne4,Rad8,Ng5+,Kg8,Nf3,Qe3,Qg4,Qxd3+,Ka1,Qg6,Qh4,Qd6,a3,Rd7,Rd1,Qxd1+,Rxd1,Rxd1+,Ka2,Rfd8,Ne5,Re8,Qh5,Rf1,Qh3,Rf6,Nd7,Rfe6,Qg4,g6,Qf4,Kg7,Nc5,R6e7,Qd4+,Kh7,Qd5,h5,Nxb7,Rxb7,Qxb7,Kg7,Qxa6,Rh8,b4,h4,b5,h3,b6', 'h2,Qd3,h1=Q', 'https://lichess.org/training/QgYBv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGYf2', 'Rapid', 'sectho', 1730, 'shaolinbg', 1669, 'e4,c5,Bc4,e6,c3,Nf6,d3,d5,exd5,exd5,Bb5+,Nc6,Bg5,Be7,h3,d4,cxd4,cxd4,Nf3', 'Qa5+,Nbd2,Qxb5', 'https://lichess.org/training/qGYf2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGYYV', 'Rapid', 'parsataha', 1676, 'tatifaura', 1962, 'e4,d6,d3,e5,c4,Nc6,Nf3,Nge7,Nc3,Bg4,Be2,Ng6,h3,Bxf3,Bxf3,Nd4,Be3,Nxf3+,Qxf3,Be7,Nd5,c6,Nc3,O-O,O-O,Qd7,a3,f5,exf5,Rxf5,Qe2,d5,cxd5,cxd5,d4,Re8,dxe5,d4,Rfd1,Rxe5,Qd3,Bc5,Bxd4,Bxd4,Qc4+,Kh8,Rxd4,Qe7,Qb3', 'Re1+,Rxe1,Qxe1+,Kh2,Qe5+,g3,Qxd4', 'https://lichess.org/training/qGYYV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qgzs6', 'Rapid', 'mam0061', 1991, 'MohammedHassanin30', 2077, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,b3,cxd4,cxd4,Bb4+,Bd2,Nxd4,Nxd4,Qxd4,Bb5+,Bd7,Bxd7+,Kxd7,Bxb4,Qxe5+,Qe2,Qxa1,Qb5+,Kd8,O-O,Qe5,Qxb7,Qb8,Ba5+,Ke8,Qc6+,Kf8,Bc7,Qe8,Bd6+,Ne7,Qb7,Rd8,Ba3,Rd7,Qb4,f6,Qg4,Kf7,Re1,Ng6,h4,f5,Qd4,e5,Qc3,d4,Qc6,Qe6,Qf3,Nxh4,Qh5+,Ng6,Nd2,Rc8,Nf3,Kg8', 'Ng5,Nf8,Nxe6', 'https://lichess.org/training/qgzs6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qGZTd', 'Blitz', 'Devinci', 1752, 'Hieroglyph', 1839, 'd4,e6,e4,d5,e5,Bb4+,c3,Be7,Bd3,h5,Nf3,Nh6,h4,Nf5,g3,b6,Qe2,Bb7,a4,c5,a5,Nd7,a6,Bc6,b4,cxb4,Bd2,bxc3,Bxc3,Rc8,O-O,g5,Bxf5,exf5,e6,gxh4,exd7+,Bxd7,Nxh4,Kf8,Ng2,h4,Qe5,Bf6,Qd6+,Kg7,Qxd5,hxg3,fxg3,Qc7,Nf4,Bc6,Qxf5,Rh1+,Kf2,Rh2+,Ke1,Re8+,Kd1,Qe7,Re1,Bf3+,Kc1', 'Qxe1+,Bxe1,Rxe1#', 'https://lichess.org/training/qGZTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QH16N', 'Rapid', 'combenk', 1714, 'telez11', 1890, 'e4,e6,d4,b6,Nc3,d5,exd5,exd5,Qe2+,Be6,g3,Bb4,Bd2,Ne7,Bg2,c6,a3,Bxc3,Bxc3,Nd7,Nf3,O-O,O-O-O,a5,Kb1,a4,Ng5,Bf5,Bh3,h6,Bxf5,Nxf5,Nf3,Nf6,h3,Nd6,g4,Nfe4,Ne5,Nxc3+,bxc3,Qc7,f4,b5,Ka2,Ne4,Qd3,f6,Ng6,Rfe8,h4,Nf2,Qd2,Nxh1,Rxh1,Re4,g5,Rae8,gxf6,gxf6,f5,Kh7,Rg1,Re2', 'Nf8+,Rxf8,Qxe2', 'https://lichess.org/training/QH16N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QH3M9', 'Rapid', 'vlad1970', 1802, 'kekotoprak', 1762, 'e4,e5,Nf3,d6,Bc4,Be7,d3,Nf6,h3,O-O,O-O,c6,Nc3,d5,exd5,cxd5,Bb3,e4,dxe4,dxe4,Ne5,Bf5,f3,exf3,Qxf3,Bc8,Bg5,Nbd7,Nxd7,Qxd7,Rad1,Qc7,Ne4,Nxe4,Bxf7+,Kh8,Qxe4,Bxg5,Rde1,Qd8,Qa4,Bd7,Qb4,Bc6,Qg4,Bd7,Be6,Rxf1+,Rxf1,Bxe6,Qxe6,h6,Kh1,b5,Qg6,Bf6,c3,a5,Qf5,b4,c4,Bxb2,c5,Rc8,Rf2,Bd4,Rd2,Rxc5', 'Qxc5,Bxc5,Rxd8+', 'https://lichess.org/training/QH3M9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QH7iz', 'Blitz', 'MorphyZER0', 1748, 'Reynaldo_Chess', 1854, 'b3,d5,Bb2,c6,e3,Nf6,Ne2,Bg4,f3,Bh5,Nbc3,Bg6,d4,Nbd7,Qd2,e6,O-O-O,Be7,h4,h5,Rg1,O-O,Nf4,a5,Nxg6,fxg6,g4,hxg4,fxg4,b5,g5,Nh5,Be2,a4,Rg2,axb3,cxb3,Ba3,Rdg1,Qa5,Bd3,c5,Bxg6,cxd4,exd4,Rac8,Kb1,Bxb2,Qxb2,Nf4,h5,Nxg2,h6,gxh6,gxh6,Qxc3,Qxg2,Kh8,h7,Qxd4,Bf7,Rxf7', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/QH7iz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qh90f', 'Rapid', 'vladimir401', 1902, 'fallen_champs', 1774, 'Nf3,d5,d4,Nf6,Bf4,c6,e3,Bg4,Nbd2,e6,c3,Be7,Bd3,Nbd7,Qc2,Bxf3,Nxf3,g6,h4,O-O,Bg5,Nh5,g4,Ng7,Bxe7,Qxe7,h5,f5,hxg6,hxg6,g5,Kf7,O-O-O,Rh8,Qb3,Rxh1,Rxh1,Rb8,Rh8,Rxh8,Qxb7,Rh3,Nd2,c5,Qxa7,c4,Bf1,Rh2,b3,Rxf2,bxc4,dxc4,Bxc4,Nf8,Qb6,Qa3+,Kc2,Qa4+,Bb3,Qd7,Kd3,Rg2,a4,Rxg5,a5,f4,Ne4,Qb5+', 'Qxb5,Rxb5,Nd6+,Ke7,Nxb5', 'https://lichess.org/training/qh90f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QH9Ot', 'Rapid', 'niveau1', 1946, 'spandchess', 2008, 'd4,e5,d5,f5,c4,Nf6,e3,Bc5,a3,a5,Nf3,O-O,Nxe5,d6,Nf3,Nbd7,Be2,Ne5,O-O,Ne4,Nc3,Nxc3,bxc3,Qf6,Qc2,b6,a4,Ba6,Nd2,f4,exf4,Qxf4,h3,Bxf2+,Kh1,Qh4,Ne4,Bxc4,Bxc4,Nxc4,Nxf2,Rf7,Kh2,Raf8,g3,Qh5,Ra2,Qxd5,Bf4', 'Rxf4,gxf4,Ne3', 'https://lichess.org/training/QH9Ot');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qHa9w', 'Blitz', 'enjoyplay', 1559, 'gijs1303', 1531, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be2,a6,Bg5,Be7,f4,h6,Bxf6,Bxf6,Nxc6,bxc6,O-O,d5,exd5,cxd5,Re1,Qb6+,Kh1,Qxb2,Nxd5,Bc3,Nc7+,Ke7,Nxa8,Bxe1,Qxe1,Bb7,Nc7,Rc8,Nxa6', 'Rxc2,Qb4+,Qxb4,Nxb4,Rxe2', 'https://lichess.org/training/qHa9w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QHamK', 'Rapid', 'rixv', 1656, 'troneras', 1610, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,bxc6,Ba4,Nf6,Nc3,Rb8,Bb3,Be7,O-O,O-O,Be3,a6,Re1,c5,Qe2,a5,Rab1,h6,Bd5,Nh7,Bd2,Bg5,f4,Bh4,Rf1,Be7,f5,Nf6,Rf3,Nxd5,Nxd5,Bc6,Rg3,Bg5,Nf4,Re8,Qg4,Bxe4,h4,Bf6,Nh5,g5,fxg6,Bxg6,Rf1,Bd4+,Kh2,Be5,Rxf7', 'Bxg3+,Qxg3,Kxf7', 'https://lichess.org/training/QHamK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qHbbg', 'Blitz', 'Elvo', 2283, 'LM Killerkaz', 2220, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nf6,g3,b6,Bg2,Bb7,Qe2,Be7,O-O,O-O,e5,Nfd7,Re1,Nc6,Nf1,Re8,h4,h6,Bf4,Bf8,N1h2,f5,exf6,Qxf6,c3,Rad8,Ng4,Qf7,Nfe5,Ncxe5,Nxe5,Nxe5,Bxe5,Bd6,Bxd6,Rxd6,Qe5,Rd7,Bh3,Rde7,Re3,Qf6,Qxf6,gxf6,Rae1,Bc8,Bg4,Kf8,f4,a5,Kf2,f5,Bh5,Rd8,Bd1,d4,cxd4,Rxd4,Bb3,Kf7,Ke2,Kf6,Kd2,b5,Kc3,a4,Bc2,Re8,Re5,b4+,Kd2,c4,Ke3,Red8,dxc4,Rd2,Bxa4', 'R8d3#', 'https://lichess.org/training/qHbbg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qhc1G', 'Blitz', 'Puthatinyourpipe', 1743, 'blinkeedotcom', 1855, 'e4,d6,d4,g6,Nf3,Bg7,Be3,Nd7,Bd3,e5,Nc3,Ngf6,h3,O-O,Qd2,Re8,d5,Nf8,Bh6,a6,O-O-O,Bd7,g4,Qe7,Rdg1,Red8,Bg5,c6,h4,Qe8,h5,cxd5,hxg6,fxg6,Bh6,d4,Nd5,Nxd5,exd5,Rac8,Bxg7,Kxg7,Qh6+,Kg8,Re1,Bxg4,Nxd4,Qf7,Ne6,Nxe6,dxe6,Bxe6,Kb1,Qg7,Qg5,Rf8,Reg1,Bf5,Bxf5,Rxf5,Qxf5,gxf5,Rxg7+,Kxg7,Rg1+,Kf6,Kc1,Rc7,Kd2,Rg7,Rh1,f4,Ke2,Kf5,c4,Ke4,Rh6,Rd7,f3+,Kd4,b3,Kc3,Rh1,Kb2,Kd3,Kxa2,Kc3,Ka3,b4,Ka2,Rh2+,Ka1', 'Kb3,Rg7,Rh1+,Rg1,Rxg1#', 'https://lichess.org/training/Qhc1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qhc9L', 'Rapid', 'Flusher', 1779, 'GoldRelic', 1783, 'd4,Nf6,c4,c5,dxc5,a5,Nc3,Qc7,Nf3,Qxc5,Bg5,g6,e3,Bg7,Be2,O-O,O-O,d6,b3,Re8,Rc1,Bg4,h3,Bxf3,Bxf3,Qxg5,Nb5,Na6,Bxb7,Nc5,Bxa8,Rxa8,Qf3,Nfe4,Rfd1,Rb8,a4,f5,Rd5,e6,Rdd1,Nxb3,Rb1,Nbd2,Qe2,Nxb1,Rxb1,Nc3,Qd2,Nxb1,Qxd6,Rxb5,cxb5,Qf6,b6,Bf8,Qd3,Nc3,b7,Ne2+,Qxe2,Qa1+,Kh2,Bd6+,g3,Qxa4,Qa6,Qb4,Qc6,Kf7,Qd7+,Kf6,Qxh7,a4,f4,Qd2+,Kh1,Qe1+,Kg2,Qe2+,Kh1,Qf1+,Kh2,Qf2+,Kh1,Qf3+,Kh2,Qe2+,Kh1,Qe1+,Kg2,Qb4,Qh8+,Ke7,Qg7+,Kd8,Qg8+,Kc7,Qf7+,Kb8,Qxe6,Kxb7,Qxg6,Bc5,h4,Qd2+,Kh3,Qxe3,Qxf5,a3,Qb1+,Kc6,Qa2,Qf2,Qe6+,Kb5,Qb3+,Bb4,Qd5+,Ka4,Qd1+,Ka5,Qd5+,Qc5,Qd8+,Ka4,Qd1+,Kb5,Qd3+,Qc4,Qd7+,Ka5,Qa7+,Qa6,Qc7+,Ka4,Qc2+,Kb5,Qf5+,Bc5,Qb1+,Kc4', 'Qf1+,Kb3,Qxa6', 'https://lichess.org/training/Qhc9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QhDjK', 'Rapid', 'Al-Nehmi', 1916, 'SoaringFalcon', 1865, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,Nge7,Bb5,Ng6,Bg5,Qb6,Bxc6+,bxc6,b3,cxd4,cxd4,c5,Be3,cxd4,Bxd4,Bc5,O-O,Bxd4,Qxd4,Qxd4,Nxd4,Nxe5,f4,Nd7,Nb5,Ke7,N1c3,Ba6,Rfc1,Rac8,Nxa7,Rc7', 'Nxd5+,exd5,Rxc7', 'https://lichess.org/training/QhDjK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qhdu0', 'Rapid', 'gfuhr', 1649, 'hector8080', 1607, 'd4,d5,c4,dxc4,e4,b5,Nc3,c6,Nf3,Bg4,Be2,e6,Ne5,Bxe2,Qxe2,Bb4,O-O,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/Qhdu0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qhEKI', 'Rapid', 'MannyLeMammouth', 1986, 'Greatferro', 1983, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,d6,d3,c5,Nf3,O-O,Bg5,h6,Bf4,Nc6,a3,e5,Bd2,d5,cxd5,Nxd5,O-O,Be6,Rc1,a6,Rc2,Qd6,Qc1,b6,Bxh6,Kh7,Ng5+,Kg8,Nxe6,fxe6,Ne4,Qe7,Bxg7,Kxg7,Qg5,Qxg5,Nxg5,Rf6,Ne4,Rff8,Rb1,Nd4,Rd2,Nb3,Rdd1,Rad8,Ng5,Kf6,h4,Ne7,Nh7+,Kf5,Nxf8,Rxf8,Be4+,Kf6,Kg2,Nf5,Rh1,Nbd4,h5,Nxe2,h6,Rh8,Bxf5,exf5,Rh3,Kg5,Rbh1,f4,gxf4+,Nxf4+,Kf3,Nxh3,Rxh3,Rxh6,Rxh6,Kxh6,Ke4,Kg5,Kxe5,Kg4,f4,b5,b3,a5,Ke4,a4,bxa4,b4,axb4,cxb4,a5', 'b3,a6,b2,a7,b1=Q,a8=Q,Qh1+,Kd4,Qxa8', 'https://lichess.org/training/qhEKI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QhFq5', 'Blitz', 'Nordlead', 1757, 'EgemenAktas', 1759, 'e4,e5,Nf3,d6,Bc4,Be6,Bb3,Nc6,c3,Qd7,Bc2,Be7,d4,exd4,cxd4,Bg4,h3,Bxf3,gxf3,Nh6,Bxh6,gxh6,Nc3,O-O-O,Qd2,Rhg8,O-O-O,Bg5,f4,Bh4,a3,Rde8,d5,Ne5,fxe5,Bg5,f4,Bh4,exd6,Qxd6,e5,Qc5,b4,Qc4,Bd3,Qd4,Nb5,Qxd5,Bf5+,Qe6,Bxe6+,Rxe6,Qd7+,Kb8,Qxc7+,Ka8,Rd8+,Rxd8,Qxf7,Rc6+,Kb2,a6,Nc7+,Kb8,Ne6,Rd2+,Kb3,Rd3+,Ka4,Bf2,Qxh7', 'b5+,Ka5,Rxa3#', 'https://lichess.org/training/QhFq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qHGNm', 'Rapid', 'RaviKumar20', 1755, 'princedinesh', 1772, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d5,cxd5,O-O,Bg5,Re8,Bd3,a6,Nge2,b5,a3,Bb7,O-O,c6,Bxf6,exf6,dxc6,Nxc6,Nd5,Ne7,Nxe7+,Rxe7,Rc1,Qe8,f3,Rb8,Rc5,Qd8,Qb3,Kf8,Rfc1,Rc8,Nf4', 'Qxd4+,Kf1,Rxc5', 'https://lichess.org/training/qHGNm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QHgxW', 'Classical', 'Abu-Ghassan', 1952, 'veiltric', 2028, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,h3,Be7,Bd3,O-O,O-O,b6,Nc3,Bb7,Ne2,c5,c3,Nbd7,Bf4,a5,Ng3,c4,Bc2,b5,Nf5,Ra6,Nxe7+,Qxe7,Re1,Re6,Rxe6,fxe6,Qe2,Ne4,Bh2,b4,Bxe4,dxe4,Nd2,Nb6,Nxe4,Na4,Bd6,Qf7,Bxf8,Qxf8,Nc5,Nxc5,dxc5,Bd5,cxb4,axb4,Qe3,Qf6,Rb1', 'Qg6,f3,Qxb1+', 'https://lichess.org/training/QHgxW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QHhjb', 'Blitz', 'GM masmos97', 2580, 'GM Elda64', 2716, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,Bd3,Bd6,O-O,Nge7,c3,Bg4,Re1,Qd7,b3,O-O,h3,Bf5,Na3,Rae8,Nb5,Bxd3,Qxd3,f6,a4,Qf5,Qf1,Nc8,Nxd6,Nxd6,Ba3,Rd8,Re3,Rfe8,Rae1,Rxe3,Rxe3,Ne4,Qb5,Qc8,c4', 'a6,Qxd5+,Rxd5', 'https://lichess.org/training/QHhjb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QHIBq', 'Rapid', 'tarekalasad', 1721, 'AHfast', 1735, 'c4,c5,g3,e6,Bg2,Ne7,Nf3,Nec6,O-O,a6,Nc3,Na7,a3,Nbc6,Rb1,h5,b4,cxb4,axb4,Nxb4,Ba3,Nac6,Qb3,a5,Nb5,b6,Ne5,Bb7,Nxc6,Nxc6,Bxf8,Kxf8,Qa3+,Kg8,Nd6,Ba6,Nb5,Rc8,d3,Qe7,Qxe7,Nxe7,Nd6,Rb8,Rb2,Nc6,Rfb1,Nb4,Be4,f5,Nxf5,exf5,Bxf5,Rd8,h4,Kf7,Rc1,g6,Be4,Kf6,c5,Rb8,cxb6,Rxb6,Rc7,Rd8,Kg2,g5,hxg5+,Kxg5,f4+,Kf6,Rc5,a4,Rxh5,a3', 'Rh6+,Ke7,Rxb6', 'https://lichess.org/training/QHIBq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qhiiJ', 'Classical', 'leebers', 1891, 'ericleo1980', 1968, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Nbd7,Qe2,Qc7,O-O-O,Be7,g4,b5,Bg2,Bb7,e5,Ng8,exd6,Bxd6,Bxb7,Qxb7,Nxe6,fxe6,Rhe1,Be7,Qxe6,Ndf6,Bxf6,gxf6,Nd5,Rd8,g5,fxg5,f5,Kf8,f6,Bc5,f7,Ne7,Qh6+,Kxf7,Rf1+,Ke8,Nf6+,Kf7,Nd7+,Nf5,Rxf5+,Ke8,Rf8+,Bxf8,Qe6+,Be7,Nf6+,Kf8,Rxd8+', 'Bxd8,Nd7+,Kg7', 'https://lichess.org/training/qhiiJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QhiZv', 'Rapid', 'cold470225', 1683, 'mukeshdurai', 1751, 'e4,c6,Nf3,d5,exd5,cxd5,c3,Bf5,Nd4,Bg6,Qa4+,Qd7', 'Bb5,Nc6,Nxc6', 'https://lichess.org/training/QhiZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qHkhT', 'Classical', 'Caruso_89', 1733, 'Tekiku', 1677, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,Nc3,Nc6,a3,Nf6,h3,g6,d3,Bg7,Bg5,O-O,Qd2,Nd4,Nxd4,cxd4,Ne2,e5,Bh6,Qb5,Bxg7,Kxg7,b3,Rac8,O-O,Qc6,Rac1,Rc7,f4,Rfc8,fxe5,dxe5,Qg5,Qd6,Rf2,Ng8,Rcf1,Rxc2,Rxf7+,Kh8,Ng3,Rc1,Nf5,Rxf1+,Kxf1,Qe6,Rxh7+,Kxh7', 'Qh4+,Nh6,Qxh6+,Kg8,Qg7#', 'https://lichess.org/training/qHkhT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qHko2', 'Rapid', 'DCl999', 1614, 'vonveadow', 1602, 'e3,d5,d4,Nc6,Nf3,Nf6,Bd3,Bg4,O-O,e5,h3,e4,hxg4,Nxg4,Ne5,exd3,Nxc6', 'Qh4,Qxg4,Qxg4', 'https://lichess.org/training/qHko2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qhlCY', 'Rapid', 'JIRRIK', 1765, 'jazzmaucci25', 1909, 'c4,e6,e4,d5,exd5,exd5,cxd5,Qxd5,Nc3,Qd8,Nf3,Bd6,d4,Nf6,Bd3,O-O,O-O,Bg4,h3,Bh5,g4,Bg6,Bg5,Be7,Bxg6,fxg6,Qb3+,Kh8,Ne5,b6,Nf7+,Rxf7,Qxf7,Nc6,d5', 'Ne5,Qe6,Nf3+,Kg2,Nxg5', 'https://lichess.org/training/qhlCY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qHNIp', 'Bullet', 'diyar4225', 1508, 'Leumen', 1550, 'e4,c5,f4,Nc6,Nf3,Nf6,Bb5,Nxe4,Bxc6,bxc6,Qe2,Nf6,O-O,g6,Ng5,Bg7,Nc3,O-O,d3,e6,Nce4,d5,Nxc5,Qb6,d4,Nd7,Nxd7,Bxd4+,Kh1,Bxd7,c3,Bg7,Be3,Qc7,Bc5,Rfb8,b4,a5,Rab1,axb4,Rxb4,Bxc3,Rxb8+,Rxb8,Qc2,Bg7,h3,Qa5,Bd6,Rb5,Rb1,Rxb1+,Qxb1,Qa7,Bb8,Qa8,Bd6,Bf6,Nf3,Bc8,Ne5,Bxe5,fxe5,Qb7,Qf1,Qd7,Qf6,c5,Bxc5,Ba6,Bd6,Bc4,a3,d4,Qf2,d3,Qd2,Qa4,Bb4,Qc2', 'Qh6,Qb1+,Kh2,Qxb4,axb4', 'https://lichess.org/training/qHNIp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qhnk8', 'Rapid', 'mitev', 1824, 'AllahDiyenMuz', 1871, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Bd3,Bc5,O-O,Bg4,Qe1,O-O,h3,Bh5,Bc4,Re8,d3,b5,Bb3,a5,a3,a4,Ba2,h6,Nc3,Re5,Ne2,Bxe2,Qxe2,Nh5,Kh1,Qh4,Kh2,Bd6,g3,Nxg3,fxg3,Rxe4,Qg2,Re2,Rf2,Qxg3+,Qxg3,Rxf2+,Kg1,Bxg3,Be3,Re2,Bd4,Rxc2,Rf1,Kh7,Rxf7,Bh2+,Kh1,Kg6,Rxg7+,Kh5', 'Bf7+,Kh4,Bf6+,Kxh3,Be6#', 'https://lichess.org/training/qhnk8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QhorL', 'Rapid', 'Troxa83', 1832, 'abdulkadirfb', 1886, 'e4,e5,Nf3,d6,Bc4,Nf6,d3,Be7,Be3,Bg4,Nbd2,O-O,h3,Bxf3,Nxf3,h6,O-O,Nbd7,a3,Nb6,Bxb6,axb6,Nh4,Nh7,Nf5,Ng5,Re1,Bf6,Re3,Ne6,Rg3,Kh7,Qh5,Qd7,Nxh6,gxh6', 'Qf5+,Kh8,Qxf6+', 'https://lichess.org/training/QhorL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QHpav', 'Classical', 'keremArhan', 1910, 'noyes', 1846, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,Nf6,Nf3,e6,Bg5,Be7,O-O,d5,exd5,exd5,Nxd5,O-O,Nxe7+,Qxe7,Re1,Qc5,Rc1,Qf5,Bxf6,Qxf6,Qb3,Na5,Qb4,Nxc4,Qxc4,Be6,Qe4,Qxb2,Nd4,Rfe8,Nxe6,Rxe6,Qa4,Re2,Qc4,Rxe1+,Rxe1,Rd8,Qc7,Qd2,Qe7,h6,h3,b5,Rb1,a6,Qa3,Qc2,Rf1,Rd2,Qxa6,b4,Qa8+,Kh7,Qa5,Rd4,Qe5,Qd3,Qe7,f6,Rc1,Re4,Qf7,Qd2,Rc7', 'Re1+,Kh2,Qf4+,g3,Qxf2#', 'https://lichess.org/training/QHpav');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QhQH9', 'Classical', 'arnold123', 1801, 'biveto', 1682, 'd4,Nf6,Nd2,e6,e4,d5,Bd3,c5,c3,Nc6,e5,Nd7,Qg4,cxd4,cxd4,Nb4,Bb1,g6,Ndf3,h5,Qg3,Bg7,a3,Qa5,Bd2,Bf8,Ra2,Qb5,axb4,Bxb4,Bxg6,Bxd2+,Nxd2,fxg6,Qxg6+,Kd8,Qxe6,Re8,Qf7,Qb4,Qxd5,Qe7,Ne2,Qe6,Qf3,Qxa2,O-O,Nb6,Qxh5,Be6,Ne4,Qc4,Rc1,Qxe2,Qxe2,Rc8,Ra1,a6,Nd6,Bc4,Qh5,Re7,Nxb7+,Rxb7,Rxa6,Bxa6,Qg5+,Re7,h4,Rc6,Qg8+,Kc7,d5,Bc4,d6+,Kd7,Qg5,Rf7,f4,Be6,h5,Rc1+,Kh2,Nd5,f5,Rxf5,Qxc1,Rxh5+,Kg1,Rxe5,b4,Kxd6,Qc5+,Kd7,b5,Re1+,Kf2,Rb1,Qc6+,Ke7,Qb7+,Kf6,g4,Rb2+,Kg3,Rb3+,Kh4,Kg6,Qc6,Nf4', 'Qe4+,Kf7,Qxf4+', 'https://lichess.org/training/QhQH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QHQKI', 'Rapid', 'klassak', 1739, 'ayoubsg', 1656, 'd4,e6,c4,b6,Nf3,Bb7,g3,h6,Bg2,Nc6,d5,Na5,b3,Qf6,Nd4,Bc5,e3,Ne7,Bb2,Ng6,O-O,h5,Nd2,h4,Ne4,Qe7,Nb5,hxg3,fxg3,Bxe3+,Kh1,f5,Bxg7,Qxg7,Nxc7+,Kd8,Nxa8,fxe4,dxe6,Bxa8', 'Rf7,Rxh2+,Kxh2,Qh8+,Bh3', 'https://lichess.org/training/QHQKI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qhQQ5', 'Rapid', 'Muhamedseraliecic', 2120, 'AmitKumarr', 2019, 'e4,e5,f4,exf4,Nf3,g5,Bc4,d6,h4,g4,Ng5,Nh6,d4,Nc6,Bxf4,Bg7,c3,Bd7,O-O,Qe7,Nd2,f6,e5,dxe5,dxe5,fxg5,Bxg5,Qc5+,Kh1,Nxe5,Qe2,Rf8,Nb3,Qxc4,Qxc4,Nxc4,Rfe1+,Kf7,Re7+,Kg8,Rxd7,Nxb2,Rxc7,Nf7,Rxb7,Nxg5,hxg5,Rf5,Nd4,Bxd4,cxd4,Rxg5,Rxb2,h5,g3,Rd8,Rd2,Rgd5,Rad1,a5,Kg2,Kg7,Rd3,Kg6,R1d2,Kg5,a3,Re8,Rc3,Red8,Rcd3,R8d6,Rd1,Rc6,R1d2,Rcd6,Rd1,Rb6,R1d2,a4,Rc2,Rb3,Rcd2,Kf5,Rxb3,axb3,Rb2,Rxd4,Rxb3,Ke4', 'Rb4,Kd3,Rxd4+', 'https://lichess.org/training/qhQQ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qhr90', 'Classical', 'Annorion', 1707, 'egornebo10', 1778, 'e4,e6,Nf3,d5,exd5,exd5,d3,Nf6,Be2,Bd6,Nc3,O-O,h3,c5,d4,Qb6,Bg5,Nc6,Bxf6,gxf6,dxc5,Bxc5,O-O,d4,Na4,Qb4,Nxc5,Qxc5,Bd3,Qh5,Re1,Kh8,Re4,Rg8,g4,Qxh3,Nh2,Ne5,Bf1,Rxg4+,Nxg4', 'Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/qhr90');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QhRGI', 'Blitz', 'superchiterok', 1884, 'CM Jaques', 2351, 'e4,c5,Nc3,d6,d3,g6,Nce2,Bg7,Ng3,a6,Nf3,b5,h3,Bb7,Bf4,e6,Be2,Ne7,Qc1,h5,Bg5,Nbc6,O-O,Qc7,c4,Nd4,Nxd4,Bxd4,Bf3,bxc4,dxc4,Rb8,Rb1,Bc6,b3,a5,Ne2,Bg7,Nf4,O-O,Bxh5,gxh5,Nxh5,Bxe4,Bh6,Bxh6,Qxh6,Nf5', 'Nf6#', 'https://lichess.org/training/QhRGI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qHrlz', 'Rapid', 'Juusal', 1662, 'ImRealBadAtChess', 1731, 'e4,c5,Nf3,e6,d4,Nc6,Bb5,Nge7,Bxc6,Nxc6,c3,d5,e5,b5,O-O,a5,Be3,a4,dxc5,Ba6,Nd4,Nxe5,b4,axb3,axb3,b4,Bf4,Bxf1,Bxe5,Bxg2,Rxa8,Qxa8,Kxg2,Bxc5,Qg4,Bf8,cxb4,Qa6,Nc3,f6,Nxe6,Qb7,Nc7+,Kd8,N3xd5,fxe5,Qg5+,Kc8,Qxe5,Bxb4,Qe6+,Kb8', 'Na6+,Ka8,Nxb4', 'https://lichess.org/training/qHrlz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QhU0g', 'Rapid', 'Mr_Miras', 2098, 'pufik2009', 1979, 'd4,d5,Nf3,Nf6,g3,c6,Bg2,e6,O-O,Nbd7,Nbd2,Bd6,c4,O-O,Qc2,Bc7,e4,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qe2,Re8,Rd1,Re7,Bg5,Rd7,Bxf6,Qxf6,Ne5,Bxe5,dxe5,Qe7,Rxd7,Bxd7,Rd1,Rd8,Qd2,Kf8,Qa5,Ra8,Qc7,Be8,Qd6,Rc8,Qd3,Rc7,Qxh7,f6,Qh8+,Kf7,exf6,Qxf6,Qh5+,Kf8,Qf3,Qxf3,Bxf3,Rd7,Rxd7,Bxd7,b3,b6,Kf1,c5,Ke2,Ke7,Ke3,Kf6,h4,g6,Bb7,a5,Ke4,e5,f4,Bf5+,Kd5,e4,Kd6,e3,Bf3,Bb1,Kc6', 'Be4+,Bxe4,e2', 'https://lichess.org/training/QhU0g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QhVlq', 'Classical', 'EASLund', 1676, 'Rummo', 1641, 'd4,d5,c4,Nf6,Nf3,Bf5,Nc3,dxc4,e3,e6,Bxc4,Bb4,a3,Bxc3+,bxc3,Qe7,O-O,O-O,Bd3,Bxd3,Qxd3,Nc6,Re1,Rad8,Qc2,a6,Bb2,b5,Rad1,Rd6,e4,e5,c4,exd4,Bxd4,Nxd4,Rxd4,Rxd4,Nxd4,Qxa3,cxb5,axb5,Qxc7,b4,Nc2,Qb3,e5,Nd5,Qc5,h6,Nd4,Qa2,Nf5,Qd2,Qc1,Qxc1,Rxc1,b3,Rc5,Nb4,Rb5,g6,Nxh6+,Kg7,Ng4,Nd3,Rxb3,Nc5,Rb5,Rd8,h3,Ne4,f3,Nc3,Rb6,Ne2+,Kh2,Kf8,h4,Ke7,Kh3,Nf4+,Kg3,Nd5,Rb7+,Ke6,Kf2,Kf5,Rxf7+,Ke6,Rg7,Nf4,Kg3', 'Nh5+,Kh3,Nxg7', 'https://lichess.org/training/QhVlq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qHXdr', 'Blitz', 'The_ChessTeacher', 2601, 'FM DJaeggi', 2602, 'Nf3,Nf6,g3,e6,Bg2,d5,O-O,Be7,b3,O-O,Bb2,c5,e3,b6,c4,Bb7,Nc3,Nbd7,Qe2,dxc4,bxc4,Qc7,d3,a6,h3,Rac8,Rab1,Rfd8,Ba1,Nf8,Rfd1,Bc6,g4,Ng6,Ne1,Bxg2,Nxg2,Rb8,f4,Bd6,g5,Nd7,h4,Ne7,h5,Qc6,Ne4,Nf5,h6,g6,Qb2,e5,Nxd6,Qxd6,fxe5,Qe6,Nf4,Qe7,e6,Qxg5+,Ng2,fxe6,Qh8+,Kf7,Qxh7+,Ke8,e4,Qxh6,Qxh6,Nxh6,Nf4,Kf7,Rf1,Rg8,a4,Ke7,Bc3,a5,Kg2,Ng4,Kg3,Nge5,Rh1,Rh8,Rxh8,Rxh8,Bxe5,Nxe5,Rxb6,Rd8', 'Rxe6+,Kd7,Rxe5', 'https://lichess.org/training/qHXdr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QhxXE', 'Rapid', 'NicholasJasper', 1800, 'Veeronica', 1668, 'd4,g6,Bf4,Bg7,Nc3,d6,Qd2,Nf6,e4,b6,O-O-O,Bb7,f3,Qd7,Bh6,Bxh6,Qxh6,Nc6,Bb5,O-O-O,Nge2,Kb8,Qd2,a6,Ba4,Na5,Bxd7,Rxd7,d5,c6,Kb1,cxd5,Nxd5,Nxd5,exd5,Rc8,Nc3,Rdc7,Rhe1,Nc4,Qd3,Ne5,Qd4,Rc4,Qd2,R4c7,Rc1,Nc4,Qg5,f6,Qh6,Na3+,bxa3,Rxc3,Kb2,Bxd5,Rxe7,R3c5,Rb1', 'Rxc2+,Ka1,Rxa2#', 'https://lichess.org/training/QhxXE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QHyfW', 'Classical', 'markchess2', 1720, 'VNteam', 1654, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,Qxf6,Nxf6,e5,Ng4,Bf4,Bc5,Bg3,Bd4,c3,Bxe5,Be2,Bxg3,hxg3,d5,f3,Ne3,Bd3,Bf5,Bxf5,Nxf5,Rh3,Ne3,Na3,O-O,Kf2,Nf5,g4,Nd6,Rah1,h6,g5,Nf5,g4,Nd6,gxh6,g6,h7+,Kh8,Nc2,f5,Ne3,c6,gxf5,Nxf5,Nxf5,Rxf5,Re1,a5,Re7,Rb8,Rh6,Rf6,Kg3,b5,Rc7,Rbf8,Kg4,Rxf3,Rxg6,R3f4+,Kg5', 'R8f5+,Kh6,Rh4#', 'https://lichess.org/training/QHyfW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QHyIB', 'Classical', 'Marat159', 1737, 'SciHamster', 1785, 'e4,e5,c3,Nf6,Qf3,b6,d4,exd4,cxd4,Bb7,d5,Qe7,Bd3,Bxd5,Nc3,Bb7,Bg5,h6,Bxf6,gxf6,O-O-O,Nc6,Nd5,Nd4,Nxc7+,Kd8,Qf4,Qc5+,Kb1,Qxc7,Qxf6+,Ke8,Qxh8,Rc8,Qxd4,h5,Bb5', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/QHyIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qhzaN', 'Rapid', 'jltabara', 1697, 'Legendnasir', 1705, 'e4,e5,Nf3,Nf6,d3,Nc6,Bg5,d5,exd5,Qxd5,Be2,e4,Bxf6', 'exf3,Bxf3,Qe6+', 'https://lichess.org/training/qhzaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QhZss', 'Rapid', 'Rober_1_0', 1603, 'pistadruzganic', 1662, 'e4,e6,Nf3,c6,Bc4,d5,exd5,cxd5,Bb3,Bd7,d3,Bc5,Be3,Qb6,Bxc5,Qxc5,O-O,Nc6,c3,Nf6,d4,Qd6,Nbd2,Ne7,Bc2,Bb5,Nb3,Bxf1,Qxf1,a6,Ne5,Ng6,Qe2,Nxe5', 'dxe5,Qc7,exf6', 'https://lichess.org/training/QhZss');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qi0r3', 'Rapid', 'jrc1316', 2044, 'Coni0483', 1676, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,b6,Nc3,Bb7,g3,O-O,Bg2,d6,O-O,Nbd7,Rad1,c6,Qf4,Qe7,e4,e5,Qd2,Rac8,Rfe1,h6,Nh4,Ne8,Bh3,Rc7,Nf5,Qf6,d5,c5,Nb5,Rc8,Nfxd6,Nxd6,Bxd7,Rcd8,Nxd6,Qxd6,Bf5,Bc8,Bxc8,Rxc8,Rf1,Rfe8,Rde1,Rb8,f4,b5,b3,bxc4,bxc4,Rb4,fxe5,Rxe5,Qf2,Re7,Rc1,f6,Qf5,Re5,Qf3,Qa6,Rf2,Rxc4,Rxc4,Qxc4,Kg2,Qxe4,Qxe4,Rxe4,Rd2,Rd4,Rxd4,cxd4,Kf3,Kf7,Ke4,d3,Kxd3,Ke7,Kd4,Kd6,a3,a6,h3,g6,a4,a5,Kc4,f5,Kd4', 'g5,g4,f4', 'https://lichess.org/training/Qi0r3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qi1ZC', 'Blitz', 'Flupkees', 2024, 'Teresias', 2050, 'e4,d6,d4,g6,Nc3,Bg7,h4,h5,Be3,Nf6,f4,c6,Be2,Ng4,Bxg4,Bxg4,Nf3,Qb6,Qd2,Qxb2,Rb1,Qa3,Rxb7,Qa6,Rb3,O-O,e5,Nd7,Kf2,c5,Rhb1,cxd4,Bxd4,dxe5,fxe5,Be6,Rb7,Rfd8,Qe3,Nb6,Rxe7,Nc4,Qe2,Qa3,Rxe6,Rxd4,Nxd4,Qxc3,Nb5,Qa5,Qxc4,fxe6,Qxe6+,Kh7,Nd6,Qd2+,Kg1,Qe3+,Kh1,Rf8,Nf7,Qf4,Ng5+,Kh8,Nh3,Qxh4,Qxg6,Bxe5,Rb7,Qe1+,Ng1', 'Qh4+,Nh3,Rf1#', 'https://lichess.org/training/Qi1ZC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qI2RW', 'Rapid', 'Pawnbeast', 2105, 'BalikoevSD', 2145, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,Bd6,Bg3,O-O,Nbd2,c5,c3,Nc6,Bd3,h6,Ne5,a6,f4,Bd7,Rc1,Be8,O-O,Rc8,Bh4,Be7,Bb1,cxd4,exd4,g6,g4,Nxe5,fxe5,Nxg4', 'Bxe7,Qxe7,Qxg4', 'https://lichess.org/training/qI2RW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qi48b', 'Rapid', 'lindomarm12', 1753, 'Dunno2222', 1770, 'e4,e6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Bd7,Nc3,Qc7,Bf4,Bb4,Qd2,Nh6,Bb5,Nc6,Nxc6,Bxc6,Bxc6+,Qxc6,Bxh6,gxh6,O-O,Rg8,Qxh6,d4,f3,dxc3,bxc3,Bxc3,Rad1,Qc5+,Kh1,Bxe5,Qxh7,Rf8,Qh5,Rc8,Rfe1,Bf6,Rxe6+,Be7,Re5,Qxc2', 'Rxe7+,Kxe7,Qe5#', 'https://lichess.org/training/qi48b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qi4Ud', 'Rapid', 'GlennRacines', 1926, 'rosada', 1859, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,Nf6,e5,Ng4,d4,d5,Bb5,cxd4,cxd4,Bb4+,Nc3,f6,h3,Nh6,Bxh6,gxh6,exf6,Qxf6,Ne5,O-O,O-O,Nxe5,dxe5,Qxe5', 'Qg4+,Qg7,Qxb4', 'https://lichess.org/training/Qi4Ud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qi5jJ', 'Blitz', 'mix008', 1776, 'amomo53', 1751, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,c3,d6,Qb3,Be6,Bxe6,fxe6,Qxb7,Ne5,Nxe5,dxe5,Qc6+,Kf7,O-O,Nf6,f4,exf4,Bxf4,Qd7,Qxc7,Qxc7,Bxc7,Ke8,e5,Nd5,Bd6,Kd7,Rf7,Raf8,Rxf8,Rxf8,Bxe7,Kxe7,cxd4,Ne3,Nd2,Rf4,Nf3,Rg4,g3,Nf5,Rd1,Kd7,d5,exd5,Rxd5+,Ke6,Ra5,Rb4,b3,h6,Rxa7,Ne3,Ra6+,Kf5,Kf2,Ng4+,Kg2,Re4,Ra4,Re2+,Kf1,Rb2,Ra5,Ne3+,Ke1,Ng2+,Kd1,Ne3+,Kc1,Rc2+,Kb1,Rf2,Nd4+,Ke4,e6,Kxd4,e7,Rf1+,Kb2,Rf2+,Ka3,Nc2+,Ka4,Re2,Ra7,Kd5,e8=Q,Rxe8,Rd7+,Kc6,Rxg7', 'Ra8+,Ra7,Rxa7#', 'https://lichess.org/training/Qi5jJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qi624', 'Rapid', 'Bilal597', 1680, 'Dhedhys', 1637, 'd4,e5,e3,Nc6,a3,a6,Nc3,h6,Nf3,e4,Nxe4,Nf6,Nxf6+,gxf6,Bd3,d5,O-O,Bd6,c4,dxc4,Bxc4,Rg8,b4,Bh3,Nh4,f5,Qh5,Qe7,Re1,O-O-O,g3,Qe4,f3,Qc2,Re2,Qxc4,Rf2,Nxd4,Bb2,Ne2+,Kh1,Nxg3+,hxg3,Bxg3,Nxf5,Bxf2,Qxh3,Qc2', 'Nd4+,Kb8,Nxc2', 'https://lichess.org/training/Qi624');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QI6vO', 'Rapid', 'FERZ_7_7_7', 1714, 'raquaza', 1932, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,d6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,f3,g6,b3,Bg7,Bb2,O-O,Nge2,Rc8,O-O,a6,Kh1,Qc7,Rad1,Nd7,Nd5,Bxd5,Bxg7,Kxg7,Rxd5,Qxc2,a4,Qc7,h3,Nc5,Rc1,Qb6,b4,Qxb4,Rd4,Qb3,Rc3,Qb6,Nf4,e5,Nd5,exd4', 'Qxd4+,f6,Nxb6', 'https://lichess.org/training/QI6vO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qI9mY', 'Rapid', 'SicilianLover', 1701, 'cgrabenstein', 1688, 'e4,e5,d4,d6,dxe5,dxe5,Bd2,Nf6,Nc3,Bc5,Nf3,Nc6,Bc4,O-O,O-O,Bg4,Bg5,Qxd1,Raxd1,Bxf3,gxf3,Be7,Nd5,Nxd5,exd5,Bxg5,dxc6,bxc6,Rd7,Rad8,Rxc7,a5,Re1,Bf6,Rxc6,Rc8,Bxf7+', 'Kxf7,Rxc8,Rxc8', 'https://lichess.org/training/qI9mY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QiBfU', 'Rapid', 'jasfer12', 1917, 'nomercy76', 1884, 'd4,d5,Bf4,c6,c3,Nf6,Nf3,g6,e3,Bg7,Bd3,O-O,Nbd2,Nbd7,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bc2,Nh5,Bg5,f6,Bh4,g5,Nxg5,fxg5,Qxh5,Bf5,Bxf5,Rxf5,Bg3,Qd5,f3,Qe6+,Kd2,Rd8,Rae1,Qd7,h4,g4,Qxg4,c5,Be5', 'Rxe5,Rxe5,Qxg4,fxg4,Bxe5', 'https://lichess.org/training/QiBfU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QiBR6', 'Blitz', 'Ernestooo', 1632, 'louboc', 1554, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,Be7,e3,O-O,Bd3,c5,e4,d5,exf5,exf5,dxc5,Bxc5,cxd5,Bxf2+,Kxf2,Ne4+,Nxe4,fxe4,Bxe4,Bg4,Re1,Bxf3,Bxf3,Qh4+,Kg1,Nd7,Be3,Nf6,Bf2,Qg5,Qb3,Kh8,Qxb7,Ng4,Bxg4,Qxg4,Re7,Rad8,Rae1,Qc4,Rxg7,Qd3,Ree7,Qd1+,Be1,Qd4+,Bf2', 'Qxf2+,Kh1,Qf1#', 'https://lichess.org/training/QiBR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIDCY', 'Classical', 'AldeXD', 1779, 'bh79', 1731, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,Nxc3,bxc3,e6,Nf3,Nc6,O-O,Bd6,d4,a6,a4,O-O,Ba3,Re8,Bd3,Qe7,Bxd6,cxd6,Re1,Qc7,Ng5,g6,Ne4,f5,Nf6+,Kf8,Nxe8,Kxe8,d5,Ne5,dxe6,Qxc3,Kh1,b6,h3,Bb7,f4,Nc4,Bxc4', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/qIDCY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIDtl', 'Classical', 'hesham1', 1671, 'likedice', 1602, 'd4,b6,e4,Bb7,Nc3,a6,d5,d6,Bd3,g6,Qe2,Bg7,Be3,h6,Nf3,Nd7,O-O,Ne5,Nxe5,Bxe5,Rad1,Bg7,Rfe1,Nf6,a4,Nd7,Qd2,Nc5,Bxc5,dxc5,b3,Qd6,Na2,e6,dxe6,Qxe6,Bc4,Qg4,f3,Qh4', 'Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/qIDtl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QIeNV', 'Blitz', 'MAQUEN_01', 1550, 'retriew', 1571, 'd4,c5,d5,d6,e4,a6,c4,Nd7,Nc3,Ne5,f4,Bg4,Qc2,Ng6,h3,Bh5,g4,e5,gxh5,Qh4+,Qf2,Qxh5,f5,Nf4,Bxf4,exf4,Qxf4,g5,fxg6,Bh6,Qxf7+,Kd8,Qxg8+,Rxg8,gxh7,Qh4+,Kd1,Qf4,hxg8=Q+,Kc7,Qh7+,Kb6,Qxh6,Qxh6,Nge2,Rf8,Kc2,Rf2,Re1,Qe3,h4,Ka5,h5,b5,cxb5,axb5,a3,b4,axb4+,Kxb4,h6,c4,h7,Qd3+,Kc1,Kb3,Nd4+,Kb4,h8=Q', 'Qd2+,Kb1,Qxb2#', 'https://lichess.org/training/QIeNV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIeTq', 'Blitz', 'Brrafi17', 1700, 'DrHighFounder', 1738, 'e4,g6,Nf3,Bg7,d4,c5,Be3,cxd4,Bxd4,Bxd4,Nxd4,Nf6,Nc3,O-O,Bd3,Qa5,Nb3,Qb6,O-O,d6,Nd5,Nxd5,exd5,Nd7,h4,Nf6,Re1,Bg4,Qd2,Rfe8,Qg5,h5,Bxg6,fxg6,Qxg6+,Kh8,Re3,Rg8,Qh6+,Nh7,Rxe7,Bf5,Rae1,Rxg2+,Kxg2,Rg8+,Kf1,Qb5+,R1e2,Qxd5,Rxh7+,Bxh7,Qf6+,Rg7,Re8+,Bg8,Qh6+,Rh7,Qf6+,Rg7,Re7', 'Qd1+,Re1,Bc4#', 'https://lichess.org/training/qIeTq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qifUx', 'Blitz', 'KayriPotter2009', 2086, 'nightmareman', 2142, 'c4,e6,g3,Nf6,Bg2,d5,Nf3,c5,O-O,b6,cxd5,exd5,d4,Bb7,Nc3,Nbd7,e3,Be7,Ne5,O-O,Bd2,Rc8,Nxd7,Qxd7,dxc5,bxc5,Rc1,Rfd8,Qe2,Qe6,Rfd1,Ba6,Qf3,d4,exd4,cxd4,Ne4,Qxa2,Nxf6+,Bxf6,Ra1,Qe6,Re1,Qc4,Bf1,Qc2,Bxa6,Qxd2,Bxc8,Rxc8,Qb7,Rf8,Red1,Qc2,Re1,d3,Red1,Bd4,Qe4,Bxf2+,Kh1,Rd8,Qe7', 'Qc6+,Qe4,Qxe4#', 'https://lichess.org/training/qifUx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QiGGc', 'Rapid', 'llaveches-19', 2015, 'paulchess', 2029, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,Be7,g3,O-O,Bg2,c6,cxd5,exd5,O-O,Bg4,Ne5,Be6,Qb3,b6,Bg5,h6,Bf4,Nfd7,Rac1,Nxe5,Bxe5,Bf6,f4,Nd7,e4,dxe4,Qa4,b5,Qa6,Bxe5,dxe5,Nb6,Nxe4,Qd4+,Kh1,Nc4,b3,Ne3,Nc5,Nxf1,Nxe6,Nxg3+,hxg3,fxe6,Qxc6,Rae8,Qxb5,Rc8,Rg1,Rf5,Qe2,Rc3,Kh2,g6,Bf3,Rxf3,Qxf3,Rh5+,Kg2,Qd2+,Qf2', 'Rh2+,Kxh2,Qxf2+', 'https://lichess.org/training/QiGGc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIGlx', 'Bullet', 'Fargotrak', 1549, 'talastilla', 1586, 'e4,c6,d3,d5,Nf3,Bg4,Be2,e6,h3,Bxf3,Bxf3,d4,c3,c5,cxd4,cxd4,Qa4+,Nc6,e5,Qc7,O-O,Bc5,Nd2,Bb6,Nc4,Ne7,Bg5,Ng6,Nd6+,Kf8,Rac1,Ngxe5,Bxc6,Nxc6,Nb5,Qe5,Bd2,g6,Rfe1,Qh5,Rc4,Kg7,Nxd4,Nxd4,Rxd4,Bxd4,Qxd4+,Kg8,Bc3,e5,Qd7,f6,Qe6+,Kg7,Rxe5,fxe5,Bxe5+,Kh6,Qe7,Rhe8,Bf4+,g5', 'Qf6+,Qg6,Bxg5+,Kh5,g4#', 'https://lichess.org/training/qIGlx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIhpI', 'Classical', 'Majko24', 1928, 'KhristianAnder', 1863, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,Nc6,f3,g6,Be3,Bg7,Qd2,O-O,O-O-O,e5,Nb3,Ne8,Bh6,Be6,h4,Bxb3,axb3,Nd4,h5,Rc8,hxg6,fxg6,Bc4+,Rxc4,bxc4,Nf6,Nd5,Nxd5,cxd5,Qc7,Bxg7', 'Nb3+,Kb1,Nxd2+', 'https://lichess.org/training/qIhpI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qihq3', 'Rapid', 'GBSAMRAT', 1863, 'Gdfthr66', 1837, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Nc3,e6,a3,Nge7,Be2,a6,O-O,O-O,f4,Nxd4,Bxd4,f5,exf5,Bxd4+,Qxd4,Nxf5,Qe5,d6,Qe4,Qb6+,Kh1,Qxb2,Qd3,Bd7', 'Rfb1,Qxa1,Rxa1', 'https://lichess.org/training/qihq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QIiNO', 'Rapid', 'Weimarraner', 2206, 'MCastilla', 2004, 'd4,Nf6,Nf3,e6,e3,c5,Bd3,cxd4,exd4,d5,O-O,Nc6,a3,a6,c4,Bd6,Nc3,Bc7,cxd5,Nxd5,Bg5,Nf6,d5,exd5,Re1+,Be6,Bf5,O-O,Bxe6,fxe6,Rxe6,Qd7,Re2,Rad8,Rd2,d4,Qb3+,Kh8,Rad1,Qg4,Bxf6,Rxf6,Qxb7,Ba5,Nxd4,Nxd4,Rxd4,Rxd4,Qb8+,Bd8', 'Qxd8+,Rxd8,Rxd8+,Rf8,Rxf8#', 'https://lichess.org/training/QIiNO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qiiyb', 'Blitz', 'HeavenX', 1641, 'Diogo012', 1630, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,a6,O-O,Nf6,a3,O-O,d3,Re8,Bg5,Be7,Re1,d6,Qd2,Bg4,Nh4,Nd4,Ne2,Nxe2+,Rxe2,Bxe2,Qxe2,Nd7,Bxe7,Qxe7,Nf5,Qg5,Qf3,g6,Ng3,Rf8,Rd1,c6,c3,b5,Ba2,h5,d4,h4,Ne2,Nf6,dxe5,dxe5,h3,Rad8,Rxd8,Rxd8,g3,Rd1+,Kg2,Ra1,Bb3,Kg7,Kh2,hxg3+,Nxg3,Qc1,h4,Qg1+,Kh3,Rc1,h5,Nxh5,Qxf7+,Kh6,Nxh5,Kxh5', 'Qh7+,Kg5,Qh4#', 'https://lichess.org/training/Qiiyb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIjnv', 'Classical', 'pawnsinskirts', 1954, 'hadi_7', 1974, 'd4,Nf6,Nc3,e6,e4,d5,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Nf3,c5,Be2,Nc6,Nb5,Kd8,Qd2,cxd4,Nfxd4,Ndxe5,O-O,a6,Nxc6+,Nxc6,Nd4,Qf6,Nxc6+,bxc6,c4,Kd7,cxd5,cxd5,Qa5,Qe5,Rac1,Qxe2', 'Qc7+,Ke8,Qc6+', 'https://lichess.org/training/qIjnv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIkaV', 'Classical', 'neerajg4', 1698, 'Maldini33', 1680, 'd4,e6,c4,Nc6,Nc3,Bb4,e4,Qf6,Nf3,Nge7,Bd3,e5,d5,Nd4,Bg5,Qg6,Bxe7,Nxf3+,Qxf3,Bxe7,O-O,h5,Qg3,d6,Qxg6,fxg6,f4,h4,fxe5,dxe5,Rf3,g5,Raf1,g4,Rf7,g5,Nb5,Kd8,Nxc7,Kxc7,Rxe7+,Kd6,Rg7,g3,hxg3,hxg3,Rf6+,Kc5,Rxg5,Kd4,Rxg3,a5,d6,Bd7,Rg7,Rad8,Rff7,Kxd3,Rxd7,Kxc4,Rc7+,Kd4,Rxb7,Rxd6,Rge7,Kxe4,Rb5,Rd5,Rxd5,Kxd5,Kf2,Rf8+,Kg3,e4,Kh4,e3,g4,Kd4,g5,Kd3,g6,e2,g7,Rg8,Kg3', 'Rxg7+,Rxg7,e1=Q+', 'https://lichess.org/training/qIkaV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QiKOP', 'Blitz', 'yourfavoritenjb', 1583, 'Starman_Jones', 1569, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bg5,Be7,Bd3,O-O,O-O,c5,c3,Nc6,Qc2,g6,Nbd2,cxd4,cxd4,Nb4,Qb3,Nxd3,Qxd3,Bf5,Qb5,b6,Ne5,a6,Qb3,b5,Nc6,Qd6,Nxe7+,Qxe7,Bxf6,Qxf6,Qxd5,Be6,Qe4,Rfe8,Qd3,Bf5,Qc3,Rac8,Qb4,Qg5,Nf3,Qh5,Rfe1,Be4,Nd2,Qg4,Nxe4,Rxe4,Rxe4,Qxe4,Re1,Qd5,b3,a5,Qxa5,Qxd4,Qxb5,Rc2,Qe8+,Kg7,a4', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/QiKOP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QiKXa', 'Rapid', 'montazerin', 2109, 'Krik_besnog_pileta', 1922, 'd4,c6,c4,d5,Nf3,Nf6,Nc3,Bf5,Bf4,e6,Qb3,b6,Ne5,Bd6,cxd5,cxd5,Qb5+,Nfd7,Nc6,Qc7,Ne5,O-O,Nxd7,Nxd7,Bxd6,Qxd6,e3,Rac8,Be2,Nf6,O-O,Ne4,Rac1,Nd2,Rfd1,Nc4,Bxc4,dxc4,e4,Bg6,Qg5,Qb4,Qd2,Rfd8,f4,h6,h3,a6,a3,Qa5,Qf2,b5,f5,exf5,exf5,Bh7,d5,Qc7,Rd4,Qe5,Rf1,Bxf5,Re1,Qf6,Rf1,Re8,g4,Bd3,Qxf6,gxf6,Rxf6,Re1+,Kf2', 'Rf1+,Kg3,Rxf6', 'https://lichess.org/training/QiKXa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIkYr', 'Rapid', 'jeanma88', 1794, 'hyunjunbae', 1798, 'Nf3,Nf6,c4,d5,e3,dxc4,Bxc4,e6,d4,Be7,Nc3,c6,O-O,O-O,a3,Nd5,Qc2,Nd7,b4,N7b6,Bd3,Nxc3,Qxc3,Bd7,Bb2,Na4,Qc2,Nxb2,Bxh7+,Kh8,Rab1,g6,Bxg6,fxg6,Rxb2,Be8,Ne5,Kh7,Qe4,Bd6,Nc4,b5,Nxd6,Qxd6,Rc2,Qd5,Qh4+,Kg7,Rc5,Rh8', 'Qe7+,Bf7,Rxd5', 'https://lichess.org/training/qIkYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qiLVc', 'Rapid', 'muskelito', 1839, 'Alex4056', 1879, 'Nf3,e6,d4,b6,c4,Bb7,e3,Bb4+,Bd2,Bxd2+,Nbxd2,Nf6,Be2,Ne4,O-O,Nxd2,Qxd2,h6,Rac1,g5,c5,Nc6,b4,g4,Ne1,h5,b5,Ne7,Nd3,f6,f3,Rg8,fxg4,hxg4,Rxf6,Nf5,Rxf5,exf5,Rf1,Qf6,Ne5,O-O-O,Qd3,Be4', 'Qxe4,fxe4,Rxf6', 'https://lichess.org/training/qiLVc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QimhV', 'Blitz', 'schlechtegut', 1912, 'sashok1', 1927, 'd4,Nf6,Bf4,e6,e3,d5,c4,Be7,Nc3,O-O,Nf3,h6,Bd3,Nh5,Bg3,dxc4,Bxc4,c5,dxc5,Qxd1+,Rxd1,Nxg3,hxg3,Bxc5,Ke2,Nc6,Rh5,Be7,g4,Bf6,g5,hxg5,Rdh1,g6,Rh6,Bg7,Rh7,Bf6,Ne4,Bg7,Nfxg5,Ne5,Rxg7+,Kxg7', 'Rh7+,Kg8,Nf6#', 'https://lichess.org/training/QimhV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QiMPD', 'Rapid', 'Ofvinci', 1623, 'V1K3N', 1622, 'g3,g6,Bg2,Bg7,d3,d6,Nf3,Nf6,Bg5,O-O,Nc3,Bg4,Nd4,Nbd7,h3,e5,Ndb5,c6,Nxd6,Qc7,Nc4,Be6,Ne3,Rad8,Na4,Qa5+,Nc3,h6,Bxf6,Bxf6,O-O,Be7,a3,f5,Qd2,Kg7,b4,Qc7,f4,e4,dxe4,Bf6,e5,Nxe5,Qe1,Nc4,Nxc4,Bxc4,Rd1,Bd4+,Kh2,Rfe8,Bf3,Kh7,h4,Bxc3,Qxc3,Bxe2,Bxe2,Rxe2+,Kh3,Rxd1,Rxd1,Qe7,Qd3,Re3,Qd7,Qxd7,Rxd7+,Kg8,a4,Rc3,Rxb7,Rxc2,Rxa7,Rc4,Rb7,Kf8,a5,Rc2,a6,Ra2,Rb6,Ra4,b5,cxb5,Rb8+,Ke7,Rb7+,Kd6,a7,Kc6,Rg7,b4,Rxg6+,Kb7,Rg7+,Ka8,Rh7', 'b3,Rh8+,Kxa7', 'https://lichess.org/training/QiMPD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QinqO', 'Blitz', 'jaqueSL', 2161, 'jefe5000', 2199, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,dxc4,a4,b5,axb5,cxb5,Nxb5,Qb6,Nc3,Qxb2,Qc1,Qxc1+,Rxc1,Bb4,Bxf6,gxf6,e3,Ba6,Nd2,Nd7,Bxc4,Bxc4,Nxc4,Rc8,O-O,Rxc4,Ne4,Rxc1,Rxc1,Ke7,Rc7,a5,Nc5,Bxc5,dxc5,Kd8,Ra7,Kc8,c6,Nb8,c7,Re8,cxb8=Q+,Kxb8,Rxa5,Kb7,Rh5,Rh8,g4,Kc6,f4,Kd6,Kf2,Ke7,Kf3,Kf8,g5,fxg5,fxg5,Kg7,Kf4,Rb8,e4,Rb5,h4,Rb1,Rh6,Rf1+,Ke5,Re1,Rf6,Rh1,Rh6,Rf1,Kd6,Rd1+,Ke7,Re1,Rf6,Rxe4,Rxf7+,Kg6,Rf6+,Kg7,h5,Re5', 'h6+,Kh8,Rf8#', 'https://lichess.org/training/QinqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QINTr', 'Blitz', 'CM katzenpapa', 1988, 'Moritz2009', 1737, 'e4,g6,d4,Bg7,Nc3,Nf6,Nf3,d5,e5,Ne4,Bd3,Nxc3,bxc3,f6,Bf4,fxe5,Nxe5,O-O,h4,Rxf4,h5,gxh5', 'Bxh7+,Kxh7,Qxh5+', 'https://lichess.org/training/QINTr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QinVU', 'Blitz', 'bennisez', 1574, 'chessmilan1', 1569, 'd4,c6,e4,d5,e5,Bf5,c3,e6,Bd3,Ne7,g4,Bg6,f4,Bxd3,Qxd3,Nd7,Nf3,Qb6,Be3,Qxb2,O-O,Qxa1,f5,Qb2,fxe6,fxe6,Ng5,Ng6,Bc1,Qb6,Qf3,Ndxe5,Qf2,Nxg4', 'Qf7+,Kd8,Nxe6+,Kc8,Qe8+,Qd8,Qxd8#', 'https://lichess.org/training/QinVU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIohm', 'Rapid', 'PawKoz', 2024, 'flanker26', 2037, 'Nf3,d5,g3,g6,Bg2,Bg7,O-O,Nf6,d4,O-O,c4,b6,Nc3,dxc4,Ne5,c6,Nxc4,Bb7,Ne5,Nd5,e4,Nxc3,bxc3,Nd7,Nxd7,Qxd7,e5,e6,Be3,Rac8,Qd2,c5,Rad1,Bxg2,Kxg2,cxd4,cxd4,Rc6,Bh6,Rfc8,Bxg7,Kxg7,Rc1,Rxc1,Rxc1,Rxc1,Qxc1,Qxd4,Qc7,a5,f4,Qe4+,Kh3,Qf5+,Kg2,Qe4+,Kh3,Qe2,Qxb6,Qf1+,Kg4,h5+,Kh4,Qg2,Qd8', 'Qxh2+,Kg5,Qxg3#', 'https://lichess.org/training/qIohm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qioxX', 'Blitz', 'Shake234', 1548, 'bbroy2912', 1576, 'd4,d5,Nf3,Bf5,e3,Nc6,Bd3,e6,b3,Nf6,Bxf5,exf5,Nbd2,Bb4,Bb2,Ne4,O-O,Qe7,a3,Bd6,c4,Qe6,cxd5,Qxd5,Nxe4,fxe4,Nd2,O-O-O,Qg4+,f5,Qxg7,Rhg8,Qh6,Rg6,Qh5,Rdg8,f4,Rxg2+,Kh1,Rxd2,Bc3,Rd3,Rg1,Rxc3,Rxg8+,Qxg8,Rg1,Qxb3,Qxf5+,Kb8,Qd7,b6,d5,Na5', 'Rg8+,Bf8,Rxf8+,Kb7,Qc8#', 'https://lichess.org/training/qioxX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QIpoh', 'Rapid', 'swamishashi', 1732, 'natsirT', 1857, 'e3,e5,c3,d5,d4,e4,Qb3,c6,c4,Be6,c5,b5,a4,Nd7,axb5,Qb8,Nc3,Be7,Ra6,Ngf6,Rxc6,O-O,Nge2,Rc8,Rxc8+,Qxc8,Nf4,a5,Be2,Bxc5,Nxe6,fxe6,dxc5,Nxc5,Qc2,a4,O-O,e5,f3,Nb3,fxe4,d4,exd4,exd4,e5,Nd5,Qe4,Nxc3,bxc3,dxc3,Ba3,Nd2,Qd5+,Kh8,Rf8+,Qxf8,Bxf8,Rxf8,Qd3,Rc8,e6', 'c2,Qxd2,c1=Q+,Qxc1,Rxc1+', 'https://lichess.org/training/QIpoh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QiQab', 'Bullet', 'CarlusMagnsen2019', 1519, 'morhaf', 1514, 'e4,e5,f4,Bc5,Nf3,exf4,d4,Nf6,dxc5,Nxe4,Bxf4,Nxc5,Bc4,O-O,b4,Ne6,Be5,c6,O-O,d5,Bd3,Qb6+,Kh1,Qxb4,Nbd2,f6,Bg3,Qc3,a4,Nd7,Bd6,Rf7,Nh4,Ng5,Nf5,Ne5,Ne7+,Kh8,Nxc8,Rxc8,Bxe5,Qxe5,Nf3,Nxf3,Qxf3,Rcf8,Qh3,f5,Rae1,Qd4,Bxf5,g6,Bd3,Rxf1+,Bxf1,Qd2,Qe3,Qxc2,Qe5+,Kg8,Qe6+,Kg7,Qe7+,Rf7,Qe5+,Kg8,Kg1', 'Qf2+,Kh1,Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/QiQab');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIS0R', 'Rapid', 'vic-cas001', 1523, 'CrimeMstrGoGo', 1545, 'e4,g6,Nc3,e6,d4,Bg7,Nf3,Ne7,Be2,Nbc6,Bg5,O-O,e5,d6,Qd2,dxe5,Nxe5,Nxe5,dxe5,Bd7,f4,c6,O-O,Qb6+,Kh1,Nf5,Qxd7,h6,Be7,Nxe7,Qxe7,Qxb2,Ne4,Qxc2,Bf3,Rad8,Qxb7,g5,fxg5,hxg5,Nxg5,Qg6,Ne4,Bxe5,Qxa7,Kg7,Qf2,Rh8,g3,f5,Qa7+,Kh6,Qe3+,Kg7,Nf2,Bxg3,h3', 'Bxf2,Qe5+,Kf7,Rxf2,Rxh3+,Rh2,Rdh8,Qxh8,Rxh8', 'https://lichess.org/training/qIS0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QisBa', 'Rapid', 's00ulking', 1953, 'bastanmarga', 1922, 'Nf3,d5,d4,c6,e3,Bg4,Be2,Nf6,b3,e6,Bb2,h6,Nbd2,Bd6,c4,Nbd7,a3,O-O,O-O,Bf5,Nh4,Bh7,c5,Bc7,b4,a6,Nhf3,Ne4,Nxe4,Bxe4,Bd3,Nf6,Ne5,Bxe5,dxe5,Bxd3,Qxd3,Ne4,f3,Ng5,h4,Nh7,Qd4,Qe7,Kf2,Rad8,Rh1,f5,g4,fxg4,Qxg4,Rf5,Rh3,Rdf8,Rg1,R8f7,Rhg3,Kh8,Qh3,b6,cxb6,c5,Rc1,c4,f4,Qd7,Qg2,Qb7,Bd4,Nf8,a4,Nd7,a5,Nxe5,Bxe5,Rxe5,Rxc4,Ref5,Rg6', 'dxc4,Qxb7,Rxb7', 'https://lichess.org/training/QisBa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qiSSf', 'Rapid', 'BKING1300', 1812, 'cannizaro', 1796, 'e4,c5,Bc4,e6,Nf3,Nc6,c3,a6,a3,b5,Ba2,Nf6,d3,h6,O-O,Bb7,Re1,e5,Nbd2,Be7,c4,Nd4,Nxd4,cxd4,Nf3,d6,c5,dxc5,Nxe5,O-O,Qf3,Bd6,Ng6,Re8,Nh4,Rc8,Nf5,c4,Nxd4,Be5,Nf5,cxd3,Qe3,Nxe4,Rd1,d2,Bxd2,Nxd2,Rxd2,Bxh2+', 'Kxh2,Rxe3,Rxd8+', 'https://lichess.org/training/qiSSf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qiSxF', 'Rapid', 'Yanick_Master1439', 1672, 'CYTKadir', 1668, 'd4,g6,g3,Bg7,Bg2,e6,Nf3,Ne7,O-O,d5,Nc3,Nbc6,Re1,O-O,e4,Re8,e5,f6,Nb1,fxe5,Nxe5,Nxe5,dxe5,c6,f4,Nf5,Be3,d4,Bf2,Qb6,b3,Ne3,Qd3,Nxg2,Kxg2,Rd8,Nd2,Bd7,Nc4,Qc7,Nd6,c5,Red1,Bc6+,Kg1,Rxd6,exd6,Qxd6,Rac1,Qd5,Kf1,Bh6,Qc4,Qh1+,Ke2,Bf3+,Kd2,Bxd1,Rxd1,Qd5,Qxd5,exd5,c3,dxc3+,Kxc3,g5,Rxd5,gxf4,Rxc5,fxg3,Bxg3,Be3,Rc7,b6,Be5,Bg1,Rg7+,Kf8,Rxg1,Re8,Bd6+,Kf7,a4,Re2,Bb8,a6,b4,Ra2,Kb3,Re2,Rd1,Ke6,Rd8,Re4,Re8+,Kd5,Rh8,Re3+,Kc2,Kc4,Kd2,Ra3,a5,b5,Bd6', 'Rd3+,Kc2,Rxd6,Rxh7,Kxb4', 'https://lichess.org/training/qiSxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QIUja', 'Rapid', 'ogunebakan', 1888, 'Tomo1112', 1876, 'e4,g6,d4,Bg7,c4,e6,Nf3,d6,Bg5,Ne7,Nc3,O-O,Bd3,f6,Be3,Nd7,h4,e5,d5,f5,h5,f4,Bd2,Nc5,Be2,Bg4,hxg6,Nxg6,Qc2,a6,O-O-O,c6,Ng1,Bxe2,Ngxe2,b5,cxb5,cxb5,a3,Rc8,Kb1,Na4,Qd3,Qb6,Qh3,h6,Qe6+,Kh7,g4,Nxc3+,Bxc3,Rce8,Qd7,Re7,Qc6,Qxc6,dxc6,Re6,g5,Rc8,gxh6,Bxh6,Bb4,Rxc6,Nc3,Kg7,f3,Ne7,Rdg1+,Rg6,Rxg6+,Nxg6,Nd5,Bg5,Rg1,Kh6,Nc3,Nh4,Rh1,Kg6,Rf1,Ng2,Nd1,Ne3,Nxe3,fxe3,Bc3,Rc5,Kc2,a5,Kd1,b4,axb4,axb4,Bxb4,Rb5,Bc3,Rb6,Ke2,Ra6,Rg1,Ra2,Rh1,Ra8,Rd1,Rh8', 'Rxd6+,Kf7,Bxe5', 'https://lichess.org/training/QIUja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIUmJ', 'Blitz', 'AsmaAli', 2001, 'nakamura-dz', 1967, 'd4,d5,c4,e6,Nc3,Be7,cxd5,exd5,Nf3,c6,Bf4,Bf5,e3,Nf6,Bd3,Bxd3,Qxd3,Nbd7,O-O,O-O,Rfe1,Re8,e4,dxe4,Nxe4,Nxe4,Rxe4,Nf6,Re2,Nd5,Bg3,Bf6,Rae1,Rxe2,Qxe2,h6,h3,Qd7,Qc4,Re8,Rxe8+,Qxe8,Be5,Bxe5,Nxe5,f6,Nf3,Qe4,Qb3,Qe7,Qd3,Kh8,Qf5,Nb6,Nh4,Qd7,Qe4,Qf7,Ng6+,Kg8,Ne7+,Kh8,b3,Nd5,Ng6+,Kg8,Qf5,Ne7,Nxe7+,Qxe7,Qc8+,Kh7,Qf5+,g6,Qf4,Kg7,a4,h5,g3,Qf7,b4,g5,Qd6,Kg6,a5,Qd5,Qe7,Qb5,Kh2,a6,Qe8+,Kh6,Qe7,Qf5,Qe3,Qd5,h4,Kg6,hxg5,fxg5,Qd3+,Qf5,Qe3,Qf6,Qe8+,Qf7,Qe4+,Qf5,Qe3,Qf6,Kg2,Qf7,Qe4+,Kh6,f3,Qd5,Kf2,Qa2+,Ke3,Qb3+,Kf2,Qa2+,Kg1,Qd5,Kg2,Qf7,Qe5,Kg6,Qe4+,Qf5,Kf2,Kf6,Ke3,Qe6,Kf2,Qa2+,Kg1,Qf7,Qe5+,Kg6,Kg2,Qf5,f4,Qc2+,Kg1,Qd1+,Kf2,Qd2+,Kf3', 'g4+,Ke4,Qe2#', 'https://lichess.org/training/qIUmJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QIURI', 'Rapid', 'Koraev_Kazbek', 2203, 'zdz234-f', 2237, 'e4,Nc6,d4,d5,e5,Bf5,c3,e6,Bd3,Bxd3,Qxd3,Nge7,Bg5,Qd7,Ne2,h6,Bxe7,Bxe7,O-O,a6,f4,g6,Nd2,h5,Rad1,Nd8,Nf3,Qb5,Qc2,c5,Kh1,Rc8,Qd2,Nc6,b3,h4,Rc1,c4,b4,a5,a3,axb4,axb4,Ra8,Ra1,Kd7,Ra2,Ra4,Rxa4,Qxa4,Qe3,Ra8,Ng5,Bxg5,fxg5,Rf8,Nf4,Qa8,Qf3,Ne7,Nxe6,Kxe6,Qf6+,Kd7,Qd6+,Ke8,h3,Qd8,Qc5,Nf5,Ra1,Ng3+,Kh2,Ne4,Qb5+,Qd7', 'Ra8+,Ke7,Qxd7+,Kxd7,Rxf8', 'https://lichess.org/training/QIURI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIvEJ', 'Rapid', 'O_Ojos', 1860, 'Lucky_stenitz', 1903, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Bg4,Bf4,e6,Qb3,b6,Ne5,Bd6,f3,Bh5,g4,Bg6,h4,h6,Nxg6,fxg6,e3,Bxf4,exf4,Nbd7,Bd3,Kf7,g5,hxg5,fxg5,Ne8,Qc2,Nd6,Bxg6+,Kf8,O-O-O,b5,Kb1,Rc8,Qe2,Qe7,Nxb5,Rc4,Nxd6,Qxd6,h5,Qb6,Rhe1,Ke7,Bf5,Rb8,b3,Rc6,h6,gxh6,gxh6,a5,h7,a4,Bc2,axb3,axb3,Ra8,Kb2,Qa5,Ra1', 'Qc3+,Kb1,Qxa1#', 'https://lichess.org/training/qIvEJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QIvJI', 'Classical', 'im4y', 1716, 'Arsenal32', 1972, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,Nd7,Nd6+,exd6,Bxf5,Ngf6,c4', 'Qa5+,Qd2,Qxf5', 'https://lichess.org/training/QIvJI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QiVo3', 'Rapid', 'fhusain564', 1641, 'steven575757', 1611, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d5,exd5,Nxd5,O-O,O-O,h3,Na5,Nxe5,Nxc4,Nxc4,Be6,Ne3,Nxe3,Bxe3,Bxe3,fxe3,Qd6,d4,Rad8,Nd2,Bd5,e4,Bc6,e5,Qg6,Rf2,f6,Nc4,Bd5,Qb3,c6,Qb4,Bxc4,Qxc4+,Kh8,e6,Rde8,Re1,f5,Rfe2,Rf6,a4,f4,Kh2', 'Qg3+,Kh1,f3', 'https://lichess.org/training/QiVo3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QiVtH', 'Rapid', 'AndreySid', 1897, 'eagle8080', 1871, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bb5+,Nc6,Ne5,Rc8,Qf3,e6,g4,Qb6', 'Bxc6+,bxc6,gxf5', 'https://lichess.org/training/QiVtH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qivvT', 'Rapid', 'Unmesh77', 1944, 'varianteascari', 1817, 'e4,c5,f4,Nc6,Nf3,d6,c3,Bg4,Be2,g6,d4,cxd4,Nxd4,Bxe2,Qxe2,Bg7,Qb5,Qb6,Qxb6,axb6,Nxc6,bxc6,Be3,b5,O-O,b4,Rd1,Nh6,Bd4,Bxd4+,Rxd4,bxc3,Nxc3,f5,e5,c5,Rd5,Rd8,Rad1,Kf7,exd6,e6,Rxc5,Ng4,Rc7+,Kf6,h3,Ne3,Rd3,Nd5,Nxd5+,exd5,Rxd5,Rhe8,Kf2,Re4,Kf3,Rde8,Re5,R4xe5,fxe5+,Kxe5,d7,Rd8,b4,Ke6,b5,Rxd7,Rxd7,Kxd7,a4,Kc7,a5,Kd6,a6,Kc7,b6+,Kxb6,Kf4,h6,h4,Kxa6,Ke5,Kb6,Ke6,Kc5,Kf6,f4,Kxg6,Kd4,Kf5,Ke3,Kg4,Ke4,h5,Ke3,Kh3,Kf2', 'Kg4,f3,gxf3', 'https://lichess.org/training/qivvT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QIWbI', 'Blitz', 'talwesky', 2227, 'Reproof_02', 1982, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Bb4+,Bd2,Be7,O-O,d5,Nc3,O-O,Ne5,Nbd7,Rc1,Nxe5,dxe5,Ng4,f4,Bc5+,Kh1,Nf2+,Rxf2,Bxf2,cxd5,Bc5,e4,f6,exf6,Qxf6,e5,Qe7,Qb3,Rad8,Be1,Kh8,dxe6,Bxg2+,Kxg2,Rd3,Qc4,Rfd8,Ne4,R3d4,Qe2,Qxe6,Bf2,Rd3,Bxc5,bxc5,Rxc5,Qb6,b3,Qb7,Kh3,Qc8+,Qg4,Qa6,Ng5,R3d7,e6,Qf1+,Kh4,Rd2,Nf7+,Kg8,e7,Rxh2+,Kg5,h6+,Kg6,Qd3+,f5,Rd6+,Nxd6', 'Qxd6+,f6,Qxf6#', 'https://lichess.org/training/QIWbI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qiwFK', 'Rapid', 'MC2310', 1648, 'pageram', 1636, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d3,d6,Be3,Bg4,Be2,Nd4,Nxd4,exd4,Bxd4,Bxe2,Qxe2,d5,Bxf6,Qxf6,exd5+,Be7,O-O,O-O,Rae1,Qg5,Ne4,Qxd5,c4,Qd4,b3,Bb4,Rd1,Rae8,Qg4', 'f5,Qg3,fxe4', 'https://lichess.org/training/qiwFK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIWr6', 'Rapid', 'mahmoud_lbx2000', 1798, 'mikos1', 1794, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,c5,g6,Bg5,Bg7,Bxf6,Bxf6,e4,dxe4,Nxe4,Bg7,Nd6+,Ke7,Ng5,Qa5+,Ke2,h6,Ngxf7,Rf8,Ke3,Rxf7,Nxc8+,Kd7,Nd6,b6,Qg4,Re7,Qxg6,Bxd4+,Kxd4,Qxc5+,Kd3,Qxd6+,Ke3,Qe5+,Kd2', 'Qxb2+,Qc2,Qxa1', 'https://lichess.org/training/qIWr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qiXNK', 'Classical', 'helmerfudd', 1754, 'SanyaAD', 1806, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Nd7,O-O,Rc8,c3,c5,Bf4,c4,Qc2,b5,Nbd2,Ne7,Bg5,Qb6,a4,a6,h3,Nc6,axb5,axb5,Ra3,Bxa3,bxa3,O-O,Bh4,Ra8,Ra1,Ra4,Ng5,g6,Ngf3,Rfa8,Qc1,b4,Nb1,b3,Bf6,Nxf6,exf6,Qd8,Qf4,Rb8,Qh4,Ra5,Ng5,Qxf6,Qxh7+,Kf8,Qh6+,Qg7,Qh4,e5,dxe5,Nxe5,Qf4,Nd7', 'Ne6+,Kg8,Nxg7', 'https://lichess.org/training/qiXNK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QiyhF', 'Rapid', 'Maxime10', 1937, 'ahmd11', 2097, 'f4,d5,Nf3,c5,e3,Bg4,h3,Bh5,g4,Bg6,f5,e5,fxg6,e4,gxf7+,Kxf7,Ne5+,Ke6,d4,Qh4+,Kd2,cxd4,exd4,Nf6,Qe2,Nbd7,Qh2,Bd6,Qf4,Bxe5,Qf5+,Ke7,dxe5,Rac8,exf6+,Nxf6,g5,Rhf8,b3,e3+,Kxe3,Qg3+,Kd2', 'Ne4+,Qxe4+,dxe4', 'https://lichess.org/training/QiyhF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QiYq3', 'Blitz', 'PeterLaFleur', 2636, 'FM jjpineda', 2145, 'd4,Nf6,Bg5,e6,Nd2,d5,e3,Be7,Ngf3,h6,Bh4,O-O,c4,b6,cxd5,Nxd5,Bxe7,Qxe7,Rc1,c5,dxc5,bxc5,Be2,Bb7,O-O,Nd7,a3,N7b6,Qc2,Rac8,Nc4,Rfd8,Nfd2,Nxc4,Nxc4,Nb6,Rfd1,Qg5,Bf1,Bd5,Nxb6,axb6,Rd2,Be4', 'Rxd8+,Rxd8,Qxe4', 'https://lichess.org/training/QiYq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qIzvt', 'Blitz', 'Schematic', 1979, 'TULLAN', 1977, 'd4,d5,Nf3,g6,h4,h6,c4,c6,cxd5,cxd5,Nc3,Bg7,e4,Nf6,exd5,Nxd5,Bc4,Nxc3,bxc3,Qc7,Qd3,Bf5,Qe2,Nd7,Ba3,Nf6,Ne5,O-O,g4,Bxg4,Nxg4,Nxg4,Rg1,Nf6,Kd2,Rac8,Bc5,b6,Rxg6,bxc5,Rag1,Ne8,Qg4,Kh8,Rxg7,Nf6', 'Rh7+,Nxh7,Qg7#', 'https://lichess.org/training/qIzvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJ3n7', 'Rapid', 'aroth12', 1843, 'ergu85', 1782, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qf4,Nd5,Qe4,Bg7,Qxd5,O-O,Bf4,Qc7,Bc4,Nb4,Qe4,b5,Bb3,Bb7,Qxb4,Bxf3,gxf3,Bxe5,Bxe5,Qxe5+,Qe4,Qxb2,O-O,Qxa1,Qxe7,Qd4,c3,Qf4,Qxd7,Qxf3,Bd5,Qf6,Bxa8,Rxa8,Qxb5,Re8,c4,Re5,Qb8+,Kg7,Qxa7', 'Rg5+,Kh1,Qf3#', 'https://lichess.org/training/QJ3n7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qJ4Oh', 'Rapid', 'ignorancekaavatar', 1669, 'IngloriousD', 1719, 'e4,e5,Nf3,Bc5,d4,exd4,Nxd4,Qf6,c3,Ne7,Be3,d6,b4,Bb6,a4,a6,a5,Ba7,Nd2,Nbc6,N2f3,O-O,Bd3,Bg4,Qd2,Ne5,Bg5,Nxd3+,Qxd3,Qg6,Bxe7,Bxf3,Qxf3,Rfe8,Nf5,h6,h4,Kh7,h5,Qe6,g4,Rxe7,Nxe7,Qxe7,Qf5+,Kg8,g5,hxg5,h6,g6,h7+,Kh8,Rd1,Re8,Qf3,Qe5,Rd5,Qe6,c4,c6,Qc3+', 'f6,Rd3,Qxe4+', 'https://lichess.org/training/qJ4Oh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qj8n4', 'Rapid', 'mickdozier', 1694, 'remisimi', 1681, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,Be7,Nf3,d6,Qc2,O-O,e4,fxe4,Nxe4,Nxe4,Bxe7,Qxe7,Qxe4,d5,cxd5,Qb4+,Nd2,Qxb2,Rb1,Qxa2,dxe6,Qxe6', 'Bc4,Qxc4,Nxc4', 'https://lichess.org/training/qj8n4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJ9u7', 'Rapid', 'davidmatthewa', 1669, 'scruel123', 1678, 'd4,f5,c4,Nf6,Nc3,Nc6,Nf3,e6,Bg5,h6,Bxf6,Qxf6,e3,Bb4,Bd3,O-O,O-O,f4,e4,e5,dxe5,Nxe5,Nxe5,Qxe5,Nd5,Bd6,f3,c6,Nc3,Qd4+,Kh1,Bc5,Qc2,Qf6,b4,Be3,c5,Rf7,Rae1,d6,cxd6,Qxd6,a3,Be6,Nd1,Bb6,Nc3,Rd8,Rd1,Qe7,Qb1,Qg5,Rfe1,Rf6,Bf1,Rg6,Na4,Be3,Rxd8+,Qxd8,Qd1,Qh4,Re2,b6,Qd6,Qf6,Qxc6,Bc4,Qxf6,Rxf6,Rxe3,fxe3,Bxc4+,Kh7,Nc3', 'Rc6,Ne2,Rxc4', 'https://lichess.org/training/QJ9u7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjafQ', 'Rapid', 'skreyper85', 1828, 'bevo', 1756, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bb5,Bg4,O-O,Nf6,Bf4,e6,Nbd2,Be7,h3,Bh5,c3,O-O,Qc2,Rc8,Rfe1,a6,Bd3,Nb4,cxb4,Rxc2,Bxc2,Bxb4,Rac1,Bxf3,gxf3,Qa5,Re2,Rc8,Bxh7+,Kxh7,Rxc8,Qxa2,Nf1,Nh5,Be3,Bd6,Rd8,Bf4,Rd7,Qa4,Rxf7,Bxe3,Rxe3,Qxd4,Rxb7,Nf4,Kh2,Qf6,Rb4,Qh4,Rxf4,Qxf4+,Ng3,e5,Ra3,Qd2,Kg2,Qxb2,Rxa6,d4,Re6,Qb5,Ne4,d3,h4,Qd5', 'Ng5+,Kh8,Re8+', 'https://lichess.org/training/qjafQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qJaqj', 'Rapid', 'syjorgeccc', 1892, 'vikips', 1912, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,e5,c5,Qc3,Nd7,exd6,Bxd6,Qxg7,Qe7+,Be3', 'Be5,Qh6,Bxb2', 'https://lichess.org/training/qJaqj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJb0n', 'Classical', 'SAXMAN1', 1761, 'piedefelice', 1801, 'e4,e6,d4,d5,e5,b6,Nf3,Bb7,Be2,Nc6,O-O,Nh6,Bxh6,gxh6,Bb5,Qe7,Bxc6+,Bxc6,c3,O-O-O,Nbd2,f6,Nb3,f5,a4,Bb7,a5,Rg8,axb6,axb6,Nbd2,Qg7,g3,h5,Nh4,Be7,Nhf3,h4,Kh1,hxg3,fxg3,Qh6,Rf2,Rxg3,Rg2,Rxg2,Kxg2,Rg8+,Kh1,Qe3,Qe1,Qf4,Qf2,c5,Rg1,Rh8,Rg7,Kd7,Qg3,Qe3', 'Rxe7+,Kxe7,Qg7+', 'https://lichess.org/training/QJb0n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qJblh', 'Blitz', 'Chxssyy', 1846, 'Sergeychess7', 1857, 'e4,c6,d4,d5,Nc3,h6,Bf4,dxe4,f3,exf3,Nxf3,e6,Bd3,Nf6,Qd2,Be7,O-O-O,Nd5,Rdf1,b6,Nxd5,cxd5,h4,Ba6,Ne5,Bxd3,Qxd3,a6,Bg3,Bf6,Bf4,O-O,Qe3,Re8,Bxh6,gxh6,Qxh6,Bg7,Qh5,Ra7,Rxf7,Rxf7,Qxf7+,Kh7,h5,Re7,Qg6+,Kg8,h6,Qe8,h7+,Kh8', 'Qxe8+,Rxe8,Ng6#', 'https://lichess.org/training/qJblh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QjBoE', 'Rapid', 'abdalrahmanmohamed', 1632, 'AlRabohy', 1660, 'e4,c5,Bc4,Nc6,a3,e6,Nf3,d5,exd5,exd5,Bb5,Bd7,d4,a6,Bd3,Nxd4,O-O,Nxf3+,Qxf3,Bc6,Qg3,g6', 'Qe5+,Kd7,Qxh8', 'https://lichess.org/training/QjBoE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjc7j', 'Bullet', 'Chesslessons_eu', 2112, 'CM Johansson', 2249, 'Nf3,e6,c4,d5,e3,Nf6,b3,Be7,Bb2,O-O,Qc2,b6,Nc3,Bb7,Be2,dxc4,bxc4,c5,Rg1,Nc6,a3,Qd7,g4,Rad8,g5,Ne8,Ne4,Kh8,h4,f6,gxf6,gxf6,Neg5,Bd6,O-O-O,e5,d4,cxd4,exd4,e4,Nxe4,Bf4+,Kb1,Na5,d5,Rc8,Nfg5,b5,Bg4,Qd6,Bxc8,Bxc8,c5,Qe7,d6,Qb7,Nxh7,Qxh7,Ng5,Qxc2+,Kxc2,Bf5+,Kc3,fxg5', 'Kb4+,Kh7,Kxa5', 'https://lichess.org/training/qjc7j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjEn3', 'Rapid', 'SamDooley', 1979, 'mauriciohr1111', 1789, 'Nf3,Nc6,d4,d5,g3,Bg4,Bg2,Nf6,Ne5,Bd7,c4,e6,Nc3,Bb4,O-O,O-O,Nxd7,Qxd7,cxd5,exd5,Bd2,Bxc3,bxc3,h6,Qc2,Rfe8,Rfe1,Ne4,f3,Nxd2,Qxd2,Re7,e4,dxe4,fxe4,Ne5,Qc2,Ng6,e5,c6,Rad1,Rd8,e6,Rxe6,Rxe6,Qxe6,Qb1,Qe3+,Kh1,Qxc3,Qxb7,Rxd4,Rf1,Ne5', 'Qb8+,Kh7,Qxe5', 'https://lichess.org/training/qjEn3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qJeS5', 'Rapid', 'mohammadreza88', 1772, 'Hahyun_Lee', 1784, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,c5,Qd1,g6,Bc4,Bg7,Nc3,d6,O-O,Nf6,f3,O-O,Bf4,Nh5,Bxd6', 'Bd4+,Kh1,Qxd6', 'https://lichess.org/training/qJeS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjFQ4', 'Bullet', 'O-Dannyboy', 1897, 'trashcroute', 1829, 'e4,d5,d4,dxe4,Nc3,Nf6,f3,exf3,Nxf3,Bg4,Be3,e6,Bd3,Nc6,O-O,Bd6,Qe1,O-O,Qh4,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/qjFQ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QjGeM', 'Rapid', 'dkfin7', 1608, 'Groeneveld', 1612, 'd4,c6,c4,e6,e3,Nf6,Nf3,d5,Nc3,g6,cxd5,cxd5,Bb5+,Bd7,Qc2,Bg7,O-O,O-O,Bxd7,Qxd7,e4,dxe4,Nxe4,Nc6,Nc5,Qd8,Nxb7,Qc7,Na5,Qxa5,Qxc6,Rac8,Qb7,Rb8,Qe7,Rfe8,Qc5,Qxc5,dxc5,Rec8,Bf4,Rxb2,Rfc1,Nd5,Be5,Bh6,Bxb2,Bxc1,Rxc1,Nf4,Nd4,Rb8,Ba3,Nd3,Rc3', 'Rb1+,Rc1,Nxc1', 'https://lichess.org/training/QjGeM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJgp9', 'Blitz', 'fcastellote57', 1755, 'Silungwe', 1792, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Nf6,O-O,Nxe4,Re1,Ng5,d4,Nxf3+,Qxf3,f6,dxe5,dxe5,Qxc6+,Bd7,Qc4,Bd6,Nc3,Qe7,Nd5,Qe6,f4,c6,Nxf6+,Qxf6', 'fxe5,Qe6,Qxe6+,Bxe6,exd6', 'https://lichess.org/training/QJgp9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJgRr', 'Blitz', 'pornzor', 1802, 'theunstoppable', 2035, 'e4,Nc6,Nf3,e5,Bb5,a6,Bxc6,dxc6,O-O,Bd6,h3,Ne7,d4,exd4,Nxd4,O-O,c3,Ng6,Nf3,f5,e5,Nxe5,Nxe5,Bxe5,Qe2,Qf6,Re1,Bd6,Nd2,Bd7,Nf3,Kh8,Be3,f4,Bd2,Rae8,Qd3,Bf5,Qc4,Be6,Qa4,b5,Qxa6,Qg6,Kh1,Bd5,Rxe8,Rxe8,Nh4,Qg5,Nf3,Bxf3,gxf3,Qh5,Kg2,h6,Qxc6,Re6,Re1,Rg6+,Kh2,Kh7,Qe4,Qh4,Rg1', 'Qxf2+,Kh1,Qxg1#', 'https://lichess.org/training/QJgRr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QjgyC', 'Rapid', 'MossiMostar', 1816, 'The_Sentinel', 2038, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,Ng4,Bg5,h6,Bh4,Qb6,O-O-O,h5,h3,Bh6,Bg5,Bxg5,Qxg5,Nxf2,Nf3,Nxd1,Bb5+,Nc6,Rxd1,Bd7,Nd5,Qd8,e5,Nxe5,Bxd7+,Nxd7,Re1,e6,Rxe6+,fxe6,Qxg6+,Kf8,Ng5,Qe8', 'Nxe6+,Qxe6,Qxe6', 'https://lichess.org/training/QjgyC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QjibO', 'Rapid', 'levonstepanyancc', 1691, 'ORENBURG92', 1678, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,Bd3,h6,Bd2,Nc6,Nf3,O-O,O-O,a6,Ne2,e5,exd5,Qxd5,dxe5,Nxe5,Nxe5,Qxe5,Ng3,Bd6,f4,Qc5+,Kh1,Bg4,Qc1,Rfe8,Re1,Nd5,f5,f6,h3,Bxg3,Rxe8+,Rxe8,hxg4,Qf2,Bc3,Nf4,Qf1,Nxd3,cxd3,Qb6,Qf3,Bh4,Qd5+,Kh7,Qd7,Re2,Qf7,Qf2,Qg6+,Kg8,Qe8+,Kh7,Qg6+,Kg8,Rg1,Qg3,Bd2,Bg5,Bxg5,fxg5,Qh5,Qh4+,Qxh4,gxh4,Rc1,Rxb2,Rxc7,b5,Ra7,Rxa2,Ra8+,Kf7,Ra7+,Kf6,Rd7,Kg5,Rxg7+,Kf4,f6', 'Kg3,Re7,Ra1+,Re1,Rxe1#', 'https://lichess.org/training/QjibO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qJjAS', 'Rapid', 'dsaiko', 1755, 'hason', 1761, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,Be7,d4,cxd4,Nxd4,Bf6,Nxc6,bxc6,Bd2,Bd4,O-O,c5,Rb1,Ne7,Ne2,d5,exd5,exd5,Nxd4,dxc4,Nf3,O-O,Be3,Qb6,h3,Ba6,Re1,Nf5,Ne5,Rad8,Qf3,Nd4,Qg4,Nxc2,Rec1,Nxe3,fxe3,Rfe8,Nxc4,Bxc4,Qxc4,Rxe3,Qxc5', 'Re1+,Rxe1,Qxc5+', 'https://lichess.org/training/qJjAS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjjOe', 'Blitz', 'abderrahmane60', 2052, 'CM VelikiKuzmo', 2118, 'e4,c6,d4,e5,dxe5,Qa5+,Nc3,Qxe5,Nf3,Qc7,Bd3,d6,O-O,Nf6,Bf4,Nh5,Be3,Be7,Ng5,Nf6,Qf3,Nbd7,Qg3,Ne5,f4,Nxd3,cxd3,O-O,f5,b5,a3,a5,Rac1,Qb7,Ne2,b4,Nf4,Nd7,Nh5,Nf6,Nf4,g6,fxg6,hxg6,Rf2,Ng4,Rf3,Bxg5,Bd2,Bf6,h3,Ne5,Rf2,Bg7,Rcf1,d5,exd5,cxd5,d4,Nc4,Bc1,Bxd4,Kh1,Bg7,Nxg6,fxg6,Rxf8+,Bxf8,Qxg6+,Qg7', 'Rxf8+,Kxf8,Bh6,Qxh6,Qxh6+', 'https://lichess.org/training/qjjOe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qJKGV', 'Classical', 'Furkan6382', 1788, 'saravmn', 1785, 'e4,e6,d4,c6,Nc3,Na6,g3,d5,e5,Be7,f4,Nh6,a3,Nf5,Bd3,Nxd4,Bxa6,bxa6,Qxd4,Qa5,Ne2,Bc5,Qd3,Qb6,b4,Bf2+,Kf1,O-O,h3,Bb7,Rh2,d4,Rxf2,dxc3,Be3,Qb5,Qxc3,Rfd8,a4,Qd5,Qe1,Qh1+,Ng1,c5,Bxc5,Bd5,Qe2,Be4,Rd1,Rxd1+,Qxd1,Bd5,Qd3,Rd8,c4', 'Bg2+,Rxg2,Rxd3', 'https://lichess.org/training/qJKGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjkms', 'Rapid', 'Inannaa', 1682, 'ishta', 1693, 'd4,d5,c4,c6,Nf3,h6,e3,Nf6,cxd5,cxd5,Bd3,e6,O-O,Bd6,Re1,O-O,Nbd2,b6,e4,dxe4,Nxe4,Nd5,Ne5,Bc7,Qc2,Bb7,Bb5,Nb4,Qc3,Nd5,Qf3,a6,Ba4,b5,Bc2,Nc6,Nxc6,Bxc6,Qg4,Nf6,Nxf6+,Qxf6,Be3,Bd5,Rac1,e5,dxe5,Qxe5,g3,Be6,Bf4', 'Qxe1+,Rxe1,Bxg4', 'https://lichess.org/training/qjkms');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJkyB', 'Rapid', 'HaluAstana', 1677, 'simon_morgens', 1652, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,Nc6,e4,Bxc3+,bxc3,d6,Ba3,e5,dxe5,Nxe5,Ne2,Nxc4', 'Qa4+,Bd7,Qxc4', 'https://lichess.org/training/QJkyB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJlsj', 'Blitz', 'ivanhector', 1992, 'TTFMABC', 1961, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bc4,e5,Nf5,Bxf5,exf5,Be7,Be3,O-O,Nd5,Nxd5,Bxd5,Nc6,c3,Rc8,Qg4,Kh8,h4,Qa5,Bb3,b5,f6,Bxf6,Bxf7,b4,Be6,bxc3,O-O,cxb2,Bxc8,bxa1=Q,Rxa1,Qc3', 'Rc1,Qb4,Rxc6,Qxg4,Bxg4', 'https://lichess.org/training/QJlsj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJMRi', 'Blitz', 'FM kirill_kopyonkin', 2529, 'abdulkader-rifai', 2782, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,O-O,Nf6,c3,h6,Nbd2,Qe7,Re1,a6,Bb3,Be6,Nf1,O-O-O,Be3,Bxe3,Nxe3,Kb8,Nd5,Bxd5,Bxd5,Nxd5,exd5,Na7,d4,e4,Nd2,f5,c4,Rhe8,b4,Qf6,Nf1,Re7,a4,Rde8,b5,a5,c5,f4,b6,cxb6,cxb6,Nc8,Qd2,Nxb6,Qxa5,Qxd4,Rab1,Nc8,Rb4,Qc5,Rb5,Qa7,Qb4,e3,fxe3,fxe3,Re2,Rf7,a5,Ref8,Ng3,h5,h4,Rf4,Qa3,Rf2,a6,Rxe2', 'Rxb7+,Qxb7,axb7,Re1+,Kh2', 'https://lichess.org/training/QJMRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJMuD', 'Rapid', 'johnflorian22', 2097, 'BP9Sharma', 2077, 'd4,Nf6,Nf3,b6,g3,Bb7,Bg2,e6,O-O,Be7,Nbd2,d6,Re1,Ne4,c3,O-O,Qc2,f5,a4,a5,e3,Nd7,b3,Ndf6,c4,c5,Bb2,Qc7,Rad1,Rad8,Nb1,Ng4,Rf1,Nexf2,Rxf2,Nxe3,Qe2,Nxd1,Qxd1,Bf6,Re2,Be4,Nbd2,cxd4,Nxe4,fxe4,Rxe4,d5,Rxe6,dxc4,bxc4,Qxc4,Rxb6,Rb8,Rxb8,Rxb8,Bf1,Qb3', 'Qxb3+,Rxb3,Bc4+,Kf8,Bxb3', 'https://lichess.org/training/QJMuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjoiz', 'Rapid', 'Vasek-Vasilek', 1770, 'Jeb_al_Gloke', 1701, 'e4,c6,Nf3,d5,d3,Bg4,h3,dxe4,hxg4,exf3,Qxf3,e6,Nc3,Nf6,Bg5,h6,O-O-O,Be7,Be3,Nbd7,d4,Nd5,Nxd5,cxd5,Bb5,a6,Bd3,Rc8,Qe2,Qa5,Kb1,Qb6,g5,Ba3,c3,Rxc3,Rc1,Rxd3,Rc8+,Ke7,Rxh8,Qb5,Rc1,hxg5,Bxg5+,f6,Re8+', 'Kxe8,Qxe6+,Kd8', 'https://lichess.org/training/qjoiz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJozt', 'Rapid', 'MrRee', 1958, 'nchodosh', 1960, 'c4,g6,d4,Nf6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Nbd7,Qc2,c5,d5,e6,Bg5,e5,a3,a5,a4,b6,Nb5,Nb8,O-O,Ba6,Qb3,Bxb5,Qxb5,Qc7,Nd2,Na6,f4,Nd7,Bg4,Ndb8,Nf3,Nb4,fxe5,dxe5,Rad1,f6,d6,Qd8,Bh4,N8c6,Be6+,Kh8,d7,Na7,Nxe5,Nxb5,cxb5,Qe7,Nf7+,Rxf7,Bxf7,Rd8,e5,Qxf7,Bxf6,Bxf6,Rxf6,Qe7,Rdf1,Rxd7,e6,Rd6,Rf8+,Qxf8', 'Rxf8+,Kg7,e7,Rd1+,Kf2', 'https://lichess.org/training/QJozt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjpn9', 'Blitz', 'deligabi', 1857, 'obolfazl', 1762, 'e4,e5,Nf3,Bc5,Bc4,d6,O-O,Be6,Bxe6,fxe6,Nxe5,dxe5,Qh5+,Kf8,Qxe5,Qd6,Qg5,Qe7,Qf4+,Qf7,Qg3,Nf6,Nc3,Nbd7,d3,Bd6,f4,Bc5+,Kh1,Qg6,Qf3,Qg4,Qxg4,Nxg4,h3,Ngf6,f5,exf5,Rxf5,Ke7,Bg5,h6,Bxf6+,Nxf6,Rxc5,c6,Rf1,Rhd8,Ne2,Rac8,Re5+,Kd6,Ref5,a5,Rxa5,b6,Raf5,Ra8,e5+,Ke6,exf6,g6,R5f2,Kf7,a3,Rd6,Rf4,Re6,Ng3,Rae8,Ne4,g5,Rf5,c5,Kh2,c4,Nc3,cxd3,cxd3,Re3,Rd5,g4,Rd7+,Kg6,f7,Rf8,Rd8,Rxf7,Rxf7,Kxf7,Rd6', 'g3+,Kg1,Re1#', 'https://lichess.org/training/qjpn9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJQPt', 'Blitz', 'AshutoshVerma10', 1666, 'PRAVINMB', 1663, 'e4,e6,d4,b6,c4,Bb7,Nc3,Bb4,Bd3,Nf6,e5,Bxg2,exf6,Qxf6,Be3,Bxh1,Qa4,Bxc3+,bxc3,Qh4,O-O-O,Bc6,Qc2,Qxh2,Ne2,Qd6,Bf4,Qa3+,Kb1,Ba4,Qd2,Bxd1,Qxd1,d6,Bc1,Qa5,Bd2,Nc6,Nc1,Qa6,Nb3,Qb7,Be4,f5,Bf3,a5,d5,Ne5,Bg2,Nxc4,Bc1,e5,Qh5+,g6,Qg5,a4,Nd2,Nxd2+,Bxd2,Qa6,Qf6,Qd3+,Kc1,Rf8', 'Qe6+,Kd8,Bg5+,Rf6,Bxf6#', 'https://lichess.org/training/QJQPt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJRqs', 'Rapid', 'zxcmfmo', 1920, 'r_andrewsha', 1905, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,O-O,O-O,Re1,d6,d4,exd4,cxd4,Bb4,Bd2,Bxd2,Nbxd2,d5,e5,dxc4,exf6,Qxf6,Nxc4,Bg4,d5,Nd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/QJRqs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjSgv', 'Blitz', 'HunterxHunterFan', 1776, 'adzso', 1833, 'c4,Nf6,Nf3,e6,g3,b6,Bg2,Bb7,O-O,Be7,d4,O-O,Nc3,d6,Bg5,Nbd7,Qd3,e5,e4,Ne8,Be3,a6,b4,Nef6,d5,h6,h3,a5,a3,Nb8,Nh4,Qd7,f4,Nh5,Kh2,Bc8,Nf5,axb4,axb4,Rxa1,Rxa1,exf4,gxf4,Bf6,b5,Qe8,Bf3,Bxf5,Bxh5,Bc8,Ra7,Qe7,Bxb6,Bxc3,Rxc7,Qh4', 'Bxf7+,Rxf7,Rxc8+,Rf8,Rxf8+,Kxf8,Qxc3', 'https://lichess.org/training/qjSgv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJskl', 'Rapid', 'Iran_1988', 1627, 'brunoletat', 1612, 'Nf3,Nc6,c4,d5,e3,d4,b3,dxe3,fxe3,Bg4,Be2,Nf6,Bb2,e6,Ne5,Bxe2,Qxe2,Nxe5,Bxe5,Bd6,Bg3,Ne4,Nc3', 'Bxg3+,hxg3,Nxg3,Qf3,Nxh1', 'https://lichess.org/training/QJskl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJTrW', 'Rapid', 'Immortalized-K', 1776, 'thebeast213', 1670, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,d6,Bg5,Be7,O-O-O,Bg4,Be2,Bxe2,Nxe2,Nxe4,Bxe7,Qxe7,Rhe1,Nc5,Nc3,Ne6,Nd5,Qd7,Qxg7,O-O-O,Nf6,Qe7,f4,Qf8,Qg4,Qh6', 'Rxe6,fxe6,Qxe6+,Kb8,Nd7+,Rxd7,Qxh6', 'https://lichess.org/training/QJTrW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qJUlr', 'Rapid', 'lukaszo_majewski', 1801, 'Fancybro', 1753, 'e4,c5,Nf3,d6,c3,Nc6,Bb5,a6,Ba4,b5,Bb3,c4,Bc2,Nf6,d4,cxd3,Qxd3,Bb7,O-O,Ne5,Nxe5,dxe5,Qe3,Qc7,b3,e6,b4,a5,Qe2,Qc6,f4,Nxe4,fxe5,axb4,Bb2,bxc3,Nxc3,Nxc3,Bxc3,Bc5+,Kh1,O-O,Rf3,b4,Bd2,Rfd8,Rh3,h6,Bxh6,gxh6,Qg4+,Kf8,Rxh6,Rd2', 'Rh8+,Ke7,Qg5+,Kd7,Qxd2+', 'https://lichess.org/training/qJUlr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qJUqP', 'Blitz', 'qwaker', 1866, 'BorisRazov', 1969, 'e4,c6,f4,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Bg4+,Be2,Bxe2+,Nxe2,Nd7,c3,e5,Kc2,exf4,Bxf4,Ngf6,Nd2,Bc5,Rhf1,O-O,h3,Rfe8,Ng3,Ne5,Rae1,Ng6,Bg5,Nd7,b4,Bb6,Nc4,Bc7,Nf5,Nde5,Ncd6,Reb8,Kb3,f6,Bf4,b5,Bxe5,Nxe5,g4,a5,g5,axb4,cxb4,fxg5,Rd1,Nc4', 'Ne7+,Kh8,Nf7#', 'https://lichess.org/training/qJUqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjuRf', 'Rapid', 'priaxel', 1887, 'm-doug', 1893, 'd4,d5,Bf4,Nf6,h3,c6,e3,Bf5,c4,e6,Qb3,Qb6,c5,Qxb3,axb3,Nbd7,Nc3,Be7,Be2,O-O,Nf3,Ne4,Nxe4,Bxe4,O-O,f6,Nd2,Bg6,b4,a6,Nb3,e5,Bh2,Bd8,dxe5,fxe5,f4,Bc7,Bg4,Bf5,Bxf5,Rxf5,g4,Rf7,Na5,Bxa5,bxa5,exf4,Rxf4,Rxf4,Bxf4,Rf8,Bd6,Rf7,Rf1,Rxf1+,Kxf1,Nf6,Ke2,Kf7,Kf3,Ne4,Kf4,Ke6,Bf8,g6,h4,Kf6,Bd6,Nd2,Be5+,Ke6,Bc3,Ne4,Bg7,Nf6,Kg5,Ne4+', 'Kh6,Kf7,Kxh7', 'https://lichess.org/training/qjuRf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjvFF', 'Blitz', 'DerKanzler', 2355, 'FM HooCee', 2495, 'b3,c5,Bb2,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nf6,g3,g6,Bg2,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Bxf6,exf6,O-O,f5,Qd4,Rg8,Nc3,Qb6,Qd3,d5,Rad1,Rd8,e3,Be7,Ne2,Kf8,c4,Kg7,Nf4,dxc4,Qxc4,Bf6,Rc1,Rd6,Rfd1,Rgd8,Rxd6,Rxd6,h4,h5,b4,Qb5,Qb3,Qe5,a4,Qe4,a5,Be5,Qc4', 'Rd1+,Rxd1,Qxc4', 'https://lichess.org/training/qjvFF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJwJo', 'Rapid', 'deftnt', 1601, 'sjoh3930', 1647, 'e4,e6,f4,Qh4+,g3,Qe7,Nc3,Nf6,d3,e5,fxe5,Qxe5,Bf4,Qd4,Qe2,Bb4,Qd2,Bxc3,Qxc3,Qxc3+,bxc3,O-O,Bxc7,Nc6,Bf4,Re8,O-O-O,b5,Nf3,a5,Kd2,b4,cxb4,axb4,Bh3,Rxa2,Ke3,h6,Ra1,Rxa1,Rxa1,g5,Bd6,g4,Bg2,gxf3,Bxf3,Re6,Bc5,d6,Bd4,Nxd4,Kxd4,Kg7,Rb1,Re7,Rxb4,Rb7,Rc4,Be6,Rc6,Rb2,Bd1,Rb1,Bf3,Rc1,Kc3,Rf1,Be2,Rf2,Bd1,Rxh2,Rxd6,Rh1,Kd2,Rg1,e5,Ng4,Bxg4,Bxg4,c4,Rxg3,c5,Rg2+,Kc3,Bf3,c6,Bxc6,Rxc6,Rg1,Kd4,Rg4+,Kd5,Rg3,d4,Rd3,Rc7,h5', 'e6,Rf3,e7', 'https://lichess.org/training/QJwJo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qJWrr', 'Rapid', 'ctrain89', 1747, 'Nizam09', 1736, 'e4,c5,Nf3,Nc6,h3,e6,Be2,Nf6,d3,Be7,Bf4,d5,exd5,exd5,O-O,O-O,Nc3,d4,Ne4,Nd5,Bg3,Nf6,Nxf6+,Bxf6,Re1,Re8,Nh2,Ne7,Bf3,Ng6,Ng4,Bxg4,Bxg4,Ne5,Bf3,Nxf3+,Qxf3,Qd7,Re2,b6,Rae1,Rxe2', 'Qxa8+,Bd8,Rxe2', 'https://lichess.org/training/qJWrr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QjXkx', 'Rapid', 'Kevincid', 1787, 'GUNCHESS', 1674, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe3,h6,Bc4,d6,O-O,Be7,Nc3,Nf6,Nd5,Nxd5,Bxd5,O-O,b3,Be6,Bb2,Bf6,Bxf6,Qxf6,Bxb7,Rab8,Bd5,Rfe8,Qd3,Bxd5,exd5,Rb4,c4,Rb7,Rfe1,Rbe7,Rxe7', 'Qxa1+,Qf1,Qxf1+,Kxf1,Rxe7', 'https://lichess.org/training/QjXkx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjxZG', 'Rapid', 'AlwaysRun', 2228, 'kubiks', 2151, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,c3,O-O,O-O,d6,h3,Na5,Bb5,a6,Ba4,b5,Bc2,c5,Nbd2,Be6,Re1,Nc6,Nf1,Rc8,Ng3,Qb6,Bg5,h6,Bxf6,Bxf6,Qd2,Rfd8,Nh5,Be7,Nh2,c4,Kh1,Bg5,Qe2,d5,dxc4,dxc4,Qf3,Rd2,Re2,Rcd8,Nf1,R2d7,Nhg3,b4,Nf5,Bxf5,exf5,b3,axb3,cxb3,Be4,Na5,f6,Rd1,Rxd1,Rxd1,Kg1,Qxf6,Qg4,Nc4', 'Qc8+,Rd8,Qxc4', 'https://lichess.org/training/qjxZG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qjY8C', 'Rapid', 'Alfonsobush', 1860, 'tolinouses', 1859, 'd4,e5,dxe5,Nc6,Nf3,Qe7,e4,b6,Bd3,Bb7,Nc3,Nxe5,Nxe5,Qxe5,O-O,O-O-O,f4,Qc5+,Kh1,Re8,Qg4,Nf6,Qg3,Bxe4,Bxe4,Nxe4,Nxe4,Rxe4,Bd2,Bd6,Qf3,Qc6,f5,Rhe8,Bc3,f6,a4,Rh4,Qxc6,Rxh2+,Kg1,dxc6,a5,Re2,Rf2,Re4,b4,c5,bxc5,Bxc5,Kxh2,Bxf2,g3,Re3,Bb4,Bxg3+,Kg2,Be5,Rd1,bxa5,Bxa5,Re2+,Kf3,Rxc2,Rg1,Rc3+,Bxc3,Bxc3,Rxg7,a5,Rxh7,a4,Ke4', 'a3,Rh8+,Kb7', 'https://lichess.org/training/qjY8C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJymA', 'Blitz', 'Zeldaboss12', 1839, 'AARONMC', 1802, 'Nf3,Nf6,d4,d5,c4,g6,Nc3,Bg7,cxd5,Nxd5,Nxd5,Qxd5,Bf4,Bg4,e3,Bxf3,Qxf3,Qxf3,gxf3,c6,Bh3,O-O,Ke2,Na6,a3,Rfe8,Rac1,e5,dxe5,Bxe5,Bh6,Bxb2,Rc2,Bxa3,Rd1,Be7,Rd7,Bf8,Bg5,Rab8,Bf4,Rbd8,Rxb7,Nb4,Rc4,a5,Bc7,Rd5,Ra7,Rh5,Bd7,Re7,Bd6,Rxd7,Rxd7,Bxd6,Rxd6,Rxh2,Rd8+,Kg7,Ra8,Rh5,e4,Re5,Ke3,Rb5,Kd4,h5,Rc5,Rb7,Raxa5,Nc2+,Kd3,Ne1+,Ke2,Ng2,Rxc6,h4,Kf1,h3,Kg1,Rb1+,Kh2,Nf4,Rac5,Rf1,Rc2,g5,Rc7,Kg6,R7c6+,f6,e5,Nh5,e6,Ng7,e7,Kf7,Rc7,Ne6,Ra7,f5,Rc8,Rxf2+,Kxh3', 'Nf4+,Kg3,Rg2#', 'https://lichess.org/training/QJymA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QJZ5I', 'Blitz', 'Michael_Grishaev', 1808, 'Adrian_33', 1849, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,cxd4,Nxd4,Nxe5,O-O,Nf6,Bf4,Ng6,Bg3,e5,Nf3,Bd6,Re1,O-O,Nbd2,Bc6,Nb3,a5,Qc2,a4,Nbd2,a3,b4,b5,Nb3,Ne4,Rad1,Qb6,Na5,Nf4,Qb3,Rfd8,Nxc6,Qxc6,Bxf4,exf4,Rxd5,Nxc3,Nd4,Nxe2+,Nxe2,f3,Nd4,Bxh2+,Kxh2,Qxd5,Qxd5,Rxd5,Nxf3,f6,Rc1,Kf7,Rc2,Ra4,Rc3,Rd1,g3,Ra1,Rc7+,Kg6,Nh4+,Kh6,Nf5+,Kg5,Nxg7,Rxa2,Ne6+,Kf5,Nd4+,Kg4', 'Rg7+,Kh5,g4+,Kh6,Nf5#', 'https://lichess.org/training/QJZ5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qJzvr', 'Rapid', 'juan_carlos_diaz', 2074, 'Angolano1', 2064, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Nxe5,Nxe5,d4,Ng6,e5,Ng8,Bc4,d6,Qf3,Be6,Qxb7,Bxc4,Qc6+,Ke7,Qxc4,Qd7,exd6+,cxd6,Nd5+,Kd8,Bd2,N8e7', 'Ba5+,Ke8,Nc7+', 'https://lichess.org/training/qJzvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qk1BZ', 'Classical', 'CleverNcutespirits', 1972, 'FigurenDieb', 1958, 'c4,e5,g3,Nf6,Bg2,Nc6,b3,Bc5,Bb2,Qe7,e3,e4,Ne2,Ne5,Nf4,g5,d4,exd3,Nxd3,Nxd3+,Qxd3,O-O,Qc3,Kg7,h4,g4,h5', 'Bb4,Qxb4,Qxb4+', 'https://lichess.org/training/qk1BZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qk1V2', 'Rapid', 'mihailp', 1747, 'DenisKovin', 1778, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nc3,Nf6,Bf4,a6,Bxc6,Bxc6,f3,Nh5,Be3,Be7,g4,Bh4+,Ke2,Nf6,Nf5,Nd7,Nxg7+,Kf8,Bh6,Kg8,Qd4', 'Bf6,Qd2,Bxg7,Bxg7,Kxg7', 'https://lichess.org/training/qk1V2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qk29H', 'Rapid', 'sierheli', 2060, 'rumpel99', 2102, 'e4,c5,Nc3,e6,f4,a6,Nf3,d6,d4,cxd4,Nxd4,Qc7,Be2,b5,a3,Bb7,Bf3,Nc6,Be3,Nf6,Nxc6,Bxc6,Qd3,Be7,O-O-O,Rc8,g4,O-O,Rhg1,Rfd8,g5,Nd7,h4,Nc5,Bxc5,dxc5,Qe3,b4,Nb1,c4,axb4,Bxb4,h5,Ba8,Rxd8+,Rxd8,Rd1,Rxd1+,Bxd1,Bd6,e5,Bc5,Qe1,Qb6,g6,Be3+,Nd2,Bxf4,gxf7+,Kf8,Kb1,c3,Nb3,cxb2,Qc3,Qc6', 'Qb4+,Kxf7,Qxf4+', 'https://lichess.org/training/Qk29H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QK2uy', 'Blitz', 'Alaba27123', 2050, 'WFM jennys2600', 2202, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,Bd6,Bg3,Nbd7,Nbd2,O-O,Bd3,Re8,Ne5,Nf8,h4,c5,c3,cxd4,exd4,Ng6,h5,Ne7,h6,g6,Bh4,Nf5,Bxf5,exf5,f4,Be7,Ndf3,Qb6,Qb3,Qxb3,axb3,Ne4,Bxe7,Rxe7,Ng5,Nxg5,fxg5,a6,O-O,Be6,b4,Rc8,Ra5,Rec7,Rc5,f6,gxf6,Rxc5,bxc5,Bf7,b4,Rc7,Rb1,Be8,b5,Bxb5,f7+,Rxf7,Nxf7,Kxf7,Re1,Bd7,Re5,Be6,Kf2,Ke7,Ke2,Kd7,Kd2,Bf7,Kc2,Be6,Kb3,Bf7,Kb4,Be6,Ka5,g5,Kb6,f4,Kxb7,Bg4,c6+,Kd6,c7,f3,Re8,Bd7,c8=Q,Bxc8+,Rxc8', 'fxg2,Rd8+,Ke7', 'https://lichess.org/training/QK2uy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qk39p', 'Blitz', 'Strelov1939', 1962, 'bobsad7819', 2084, 'd4,Nf6,c4,e6,Nc3,d5,e3,c5,Nf3,a6,a4,Nc6,Be2,dxc4,Bxc4,cxd4,exd4,Be7,O-O,O-O,h3,Qb6,b3,Rd8,Be3,Qa5,Qd3,Bd7,Ne4,Rac8,Nxf6+,Bxf6,Qe4,Nb4,Ne5,Bc6,Nxc6,Rxc6,g4,Rc7,g5,Bxg5,Kh1,Bf6,Rg1,Rcd7,Qf4,Qh5,Rg3,Bxd4,Bxd4,Rxd4,Qc7,R4d7,Qf4,Nc6,Rag1,g6,Kh2,Qc5,h4,Rd2,R1g2,R8d4,Qf6,Qd6,h5,Rf4,Qg5,Nd4,hxg6,Nf3+,Rxf3,Rh4+,Kg1', 'Rd1+,Bf1,Rxf1+,Kxf1,Qd1#', 'https://lichess.org/training/Qk39p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qk423', 'Blitz', 'MissCalculation', 2229, 'IM CiuMark', 2469, 'c4,b6,Nc3,Bb7,Nf3,e6,Qc2,Bb4,e3,Nf6,Be2,O-O,a3,Bxc3,Qxc3,a5,b3,d6,Bb2,Nbd7,O-O,e5,d3,Re8,b4,Qe7,e4,Nf8,g3,Ne6,Nh4,Nd4,Bd1,axb4,axb4,Rxa1,Bxa1,Ra8,Qc1,Bc8,Bxd4,exd4,Bf3,Qe8', 'e5,dxe5,Bxa8', 'https://lichess.org/training/qk423');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qK4aS', 'Rapid', 'visionj', 1830, 'WCM NicolleM_13', 2080, 'e4,d5,e5,Bf5,Nf3,e6,d4,c5,c3,Nc6,Be3,c4,Nbd2,Nge7,Be2,h6,O-O,Bh7,Ne1,Nf5,Nc2,Be7,b3,b5,bxc4,bxc4,Rb1,Nxe3,fxe3,O-O,a3,Bxc2,Qxc2,Bxa3,e4,Be7,exd5,exd5,Qa4,Qc7,Rb5,Rfd8,Rfb1,Rab8,Bf3,Rxb5,Rxb5,Bg5,Nf1,Ne7,Qb4,Qc6,Rc5,Qa6,Ra5,Qg6,Rxa7', 'Nc6,Qb7,Nxa7', 'https://lichess.org/training/qK4aS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QK5FQ', 'Rapid', 'liajsan', 2138, 'kral_ege2011', 1971, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,c3,Nf6,Nxc6,bxc6,Bd3,e6,O-O,O-O,Nd2,d5,e5,Nd7,Nf3,Nxe5,Nxe5,Bxe5,Re1,Qc7,g3,Rb8,Qc2,a5,b3,Bg7,Bc5,Re8,f4,e5,fxe5,Rxe5,Bd4,Rxe1+,Rxe1,Bh3,Qf2,Bxd4,Qxd4,Qb6', 'Re8+,Rxe8,Qxb6,Re1+,Kf2', 'https://lichess.org/training/QK5FQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QK5jL', 'Rapid', 'illimeg', 1643, 'TheOriginalKingAJB', 1707, 'd4,e5,dxe5,Nc6,Nf3,Bc5,e3,a6,Be2,d6,exd6,Bxd6,O-O,Nf6,b3,O-O,Bb2,Bg4,Nbd2,Bf5,a3,Re8,c4,Bg4,b4,Bxf3,Bxf3,Ne5,c5,Nxf3+,Nxf3,Be7,Qc2,h6,Rfd1,Qc8,Rd3,Rd8,Rad1,Rxd3,Rxd3,Qf5,Qb3,Qh7,Ne5,Rf8,h3,Ne4,Nd7,Rd8,Qd1,Ng5,Nf6+,gxf6,Rxd8+,Bxd8,Qxd8+,Kg7,Qd4,Qg6,f3', 'Nxf3+,Kf2,Nxd4', 'https://lichess.org/training/QK5jL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qKAmQ', 'Rapid', 'Apollinariya', 1870, 'anyaresh', 1718, 'e4,e5,Nc3,Nc6,Nf3,Nf6,Bc4,Bc5,O-O,d6,d3,h6,h3,Be6,Nd5,Nxd5,exd5,Na5,dxe6,Nxc4,dxc4,fxe6,Qd2,O-O,Nh2,Bb6,Qd3,c6,Qg3,Rf6,Ng4,Rg6,Bxh6,gxh6,Nxh6+,Kh7,Ng4,Bc7,h4,d5,Qh3,Qd6,cxd5,e4,Nh2,cxd5,f4,Bb6+,Kh1,d4,f5', 'Rg3,fxe6,Rxh3', 'https://lichess.org/training/qKAmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qkbJY', 'Blitz', 'Samirovski1987', 1974, 'JoseMendoza', 1960, 'd4,Nf6,Nf3,d5,g3,e6,Bg2,Be7,c4,O-O,Nc3,c6,Bf4,Nbd7,O-O,Nb6,cxd5,exd5,h4,Bf5,Re1,Ne4,Ne5,Bf6,Qb3,Qc8,Kh2,Re8,a4,Nxf2,a5,Nd7,a6,b6,Qa4,Ng4+,Kg1,Ndxe5,dxe5,Nxe5,Rad1,Nc4,b3,Nb2,Qb4,c5,Qb5,Bxc3,Bxd5,Nxd1,Rxd1,Rd8,Qc4,Bf6,Bxf7+,Kh8,Bd5,Rxd5,Qxd5,Qd8,Bd6,Bg6,e4,Qg8,Qb7,Bd4+,Kg2,Re8,e5,Bxe5,Bxe5,Rxe5,Qxa7,Qxb3,Rd8+,Re8,Qe7,Qc2+,Kf1,Qf5+,Kg1,Qf8', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/qkbJY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qKdLQ', 'Blitz', 'AMPaunescu', 2244, 'CM tainha', 2273, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,e5,Ne8,f4,d6,Nf3,c5,Be3,cxd4,Bxd4,dxe5,Bxe5,Qxd1+,Rxd1,Bxe5,Nxe5,Nc6,Nxc6,bxc6,Be2,Be6,O-O,Nd6,b3,Nf5,Rd3,h5,Bf3,Rac8,Rfd1,c5,Bd5,Nd4,Bxe6,fxe6,Ne4,Rxf4,Nxc5', 'Ne2+,Kh1,Rxc5', 'https://lichess.org/training/qKdLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkDQS', 'Rapid', 'Feda13', 1815, 'Ardaferiz', 1832, 'e4,g6,Nf3,Bg7,Bc4,e6,O-O,b6,d4,Bb7,d5,Ne7,Ng5,exd5,exd5,d6,Re1,O-O,Qg4,Nxd5,Nxh7,Kxh7,Qh3+,Kg8,Bh6,Qf6,Re4,Qxb2,Rh4,Bxh6,Rxh6,Qxa1,c3,Qxb1+,Bf1,f6,Rh8+,Kf7,Qh7+,Ke8,Rxf8+,Kxf8,Qh8+,Ke7,Qg7+,Ke6,Qg8+,Kf5,h4,Qe4,h5,Nf4,f3,Qe3+,Kh2,Nxh5,g4+,Kf4,Qc4+,Kxf3', 'Bg2+,Kf2,Qf1#', 'https://lichess.org/training/QkDQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QKdvA', 'Rapid', 'carbone144', 1794, 'ART55ARK', 1794, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,Bf5,Nc3,Qd8,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,Ne5,Bb5,Nxb5,axb5,Qh5,g6,Qf3,f6,Qxb7,fxe5,Qxb5+,Qd7,Qxe5,Nf6,Bg5,Bg7,Rfe1,h6', 'Bxf6,Bxf6,Qxf6', 'https://lichess.org/training/QKdvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qkEnr', 'Rapid', 'whateveryaar', 1702, 'aleks_koljada', 1890, 'e4,c5,f4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,e6,O-O,Be7,a3,O-O,d3,b6,Ne5,Nbd7,Qf3,Nxe5,fxe5,Nd5,Ne4,Bb7,Qg3,Kh8,Ng5,Qe8,Ne4,Qd8,Bg5,f6,exf6,Bxf6,Bxf6,Nxf6,Nxf6,Rxf6,Rxf6,Qxf6,Rf1,Qe7,Qe5,Re8,Re1,Qd7,Re3,Qd4,c3,Qg4,h3', 'Qxg2#', 'https://lichess.org/training/qkEnr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkG1x', 'Rapid', 'K-MAY-COOL', 2006, 'IgnatR', 2027, 'd3,e5,e4,Bc5,Nc3,Nf6,Bg5,h6,Bh4,Nc6,f4,Nxe4,Bxd8', 'Bf2+,Ke2,Nd4#', 'https://lichess.org/training/QkG1x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qkGHi', 'Blitz', 'mayankrexG', 1622, 'Ankit_ks1406', 1699, 'e4,e5,c3,Nf6,h3,d5,Nf3,Nc6,exd5,Nxd5,Qe2,Bd6,d4,Qe7,dxe5,Nxe5,Nxe5,Qxe5,Qxe5+,Bxe5,Bc4,Be6,O-O,O-O-O,Bb3,Bf6,Nd2,Rhe8,Ne4,Be7,Ng5,h6,Nxe6,fxe6,Re1,Bf6,Bd2,Nb6,Bf4,e5,Bg3,Rd2,Rab1,c6,Bf7,Re7,Bg6,Nd5,c4,Nb4,a3,Nd3,b4,Nxe1,Rxe1,Ra2,Rd1,Rxa3,Bf5+,Kc7,c5,Rb3,f4,Rxb4,fxe5,Bxe5,Bxe5+,Rxe5,Rd7+,Kb8', 'Rd8+,Kc7,Rc8#', 'https://lichess.org/training/qkGHi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkGtg', 'Rapid', 'BabaNatie', 1687, 'zloyhimik', 1671, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,Bb4+,c3,dxc3,bxc3,Bc5,exf6,Qxf6,O-O,O-O,Bg5,Qf5,Bd3,Qg4,h3,Qh5,Be2,d6,h4,f6,Bf4,g5,Nxg5,Qxh4,Qb3+,Kg7,Ne6+', 'Bxe6,Qxe6,Qxf4', 'https://lichess.org/training/QkGtg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qKgTo', 'Rapid', 'Graf_Monte_Kristo05', 1926, 'Belito2013', 2009, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,d6,O-O,e5,d3,Nc6,h3,Be6,Kh2,h6,Be3,Kh7,Qd2,Qd7,b3,Rg8,Ne4,Nxe4,dxe4,f5,Nh4,g5,Nxf5,Bxf5,exf5,Qxf5,Qd5,Kh8,Be4,Qd7,g4,Rab8,Bf5,Qe7,Rad1,Rbe8,Bc1,e4,a3,Be5+,Kh1,Bf6,b4,a6,b5,axb5,cxb5,Nd8,b6,Nf7,bxc7,Qxc7,Be6,Rgf8,Bxf7,Rxf7,Qxd6,Qa5,Rd5,Qc3,Rf5', 'Qxh3+,Kg1,Qxg4+', 'https://lichess.org/training/qKgTo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QKhSr', 'Rapid', 'kodza', 2035, 'Mislilac', 2150, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Nc3,Be7,Be2,O-O,O-O,c6,h3,Na6,a3,Nc7,Nb1,h6,c3,Bf5,Re1,Ne6,Nbd2,Bd6,Nf1,Qc7,Bd3,Ne4,Nh4,Bh7,Bb1,f5,Bxe4,fxe4,Ne3,Ng5,Qg4,Rae8,Nhf5,Qd7', 'Nxh6+,gxh6,Qxd7', 'https://lichess.org/training/QKhSr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qkixv', 'Rapid', 'lordpimenton', 1890, 'salosti', 1893, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,g6,Nc3,a6,Bc4,Bg7,O-O,Nf6,Bg5,O-O,Qd2,d6,Rad1,Bg4,Qe3,Nd4,Nd5,Nxf3+,gxf3,Nxd5', 'Bxd5,Qd7,fxg4', 'https://lichess.org/training/Qkixv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkjbE', 'Rapid', 'Ahmadalaajo995', 1632, 'wonderyears', 1671, 'e4,Nc6,Nf3,Nf6,Nc3,d5,e5,Ne4,d4,e6,Bd2,Be7,a3,O-O,Bd3,f5,exf6,Nxf6,Qe2,a6,O-O-O,b5,g4,b4,axb4,Nxb4,g5,Nxd3+,Qxd3,Ne4,Nxe4,dxe4,Qxe4,Rb8,h4,Bb7,Qxe6+,Kh8,Rde1,Bxf3,Qxe7,Qxe7,Rxe7,Bxh1,f4,c6,h5,Bd5,h6,g6,b3,Rfe8,Rg7,Re4,c4,Bxc4,bxc4,Rxd4,Bc3,Rxc4,Kd2,Rd8+', 'Rd7+,Kg8,Rxd8+', 'https://lichess.org/training/QkjbE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QKJIe', 'Rapid', 'lucky_star', 2047, 'abcdefghijk1234', 2462, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,c3,Bc5,Be3,Bb6,Bb5,Nf6,f3,O-O,O-O,Re8,Qd2,Nxd4,Bxd4,c6,Bd3,d5,e5,Nd7,f4,f6,Kh1,fxe5,fxe5,Nxe5,Bxe5,Rxe5,Qc2,Qh4,Nd2,Qh6', 'Bxh7+,Qxh7,Rf8+,Kxf8,Qxh7', 'https://lichess.org/training/QKJIe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkjOp', 'Rapid', 'Sergey_Mihailovich', 1796, 'AdilsonAndrade', 1680, 'd4,d5,Bf4,e6,e3,Nf6,Bg5,Nbd7,Nf3,Be7,Bd3,Ne4,Bf4,O-O,Nfd2,Bg5,Nxe4,dxe4,Bxe4,Bxf4,exf4,f5,Bd3,Qh4,Qf3,Rb8,Nd2,b6,Qg3,Qf6,c3,c5,Nf3,cxd4,Nxd4,e5,fxe5,Nxe5,Bc2,Ng4,Qxb8,Re8+,Kf1', 'Ba6+,Kg1,Rxb8', 'https://lichess.org/training/QkjOp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qkkbm', 'Blitz', 'lhawta', 1937, 'baloo28', 1905, 'd4,e6,c4,Nf6,g3,d5,cxd5,exd5,Bg2,c6,Nf3,Bd6,Nc3,O-O,O-O,Bg4,h3,Bh5,Re1,Re8,Bg5,h6,Bxf6,Qxf6,e4,Qd8,exd5,cxd5,Rxe8+,Qxe8,Nxd5,Nc6,Qd3,Bg6,Qe3,Qd7,Re1,Rc8,Ne5,Nxe5,dxe5,Bc5,Qf4,Qb5,e6,fxe6,Rxe6,Bf7,Ne7+,Bxe7,Rxe7,Bd5,Qg4,Rc1+,Kh2,g5,Qd4,Rh1+,Kxh1', 'Qf1+,Kh2,Qxg2#', 'https://lichess.org/training/Qkkbm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkKn6', 'Blitz', 'lalamove_rider', 2030, 'Parsadan', 2039, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Bb4+,c3,dxc3,bxc3,Ba5,Ba3,d6,O-O,Nge7,Nd4,O-O,Qh5,Bb6,Nf5,Nxf5,exf5,Ne5,Bb3,Kh8,Nd2,f6,Rfe1,Bd7,Re4,Be8', 'Qxh7+,Kxh7,Rh4+,Bh5,Rxh5#', 'https://lichess.org/training/QkKn6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkoeU', 'Blitz', 'iDyks', 1892, 'hadisaberi11', 1870, 'd4,d5,Bf4,e6,Nf3,c5,e3,cxd4,exd4,Nf6,c3,Nc6,Nbd2,Bd6,Bg5,h6,Bh4,Be7,Bd3,Nd7,Bg3,Nb6,O-O,O-O,Ne5,Nxe5,Bxe5,Bf6,Nf3,Bxe5,Nxe5,Nd7,Ng4,Qg5,Bc2,f5,Ne3,Nb6,Re1,Bd7,b3,Rf6,c4,dxc4,bxc4,Rd8,c5,Nd5,Nxd5,exd5,Bb3,Rg6,Qf3,Bc6,g3,h5,h4,Qxh4,Qxf5,Rxg3+,fxg3,Qxg3+,Kh1,Rf8,Bxd5+,Bxd5+,Qxd5+,Kh8,Qxh5+,Kg8,Rg1,Qf4,Qg6', 'Qh4+,Kg2,Rf2#', 'https://lichess.org/training/QkoeU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkOgt', 'Rapid', 'TyrellWheeler', 1645, 'pigui', 1657, 'e4,e5,Nf3,Qf6,Bc4,Bc5,c3,h6,d4,Bd6,O-O,Nc6,dxe5,Nxe5,Nxe5,Bxe5,f4,Qb6+,Kh1,Bf6,Qd5,Qe6,e5,Qxd5,Bxd5,Be7,Nd2,c6,Bb3,Bd8,Ne4,Bc7,Nd6+,Bxd6,exd6,Nf6,Re1+,Kd8,Bxf7,Rf8,Bg6,b6,Re7,Rg8,b4,Nd5,Bf7,Rf8,Bxd5,cxd5,g3,Rg8,Bb2,a5,a3,axb4,cxb4,b5,Rd1,Bb7,Rd3,Rc8,Rxg7', 'd4+,Kg1,Rxg7', 'https://lichess.org/training/QkOgt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qKP6Z', 'Blitz', 'anand61', 1591, 'Allegro_Solemne', 1875, 'Nf3,d5,c4,dxc4,Na3,Nf6,Nxc4,Bf5,g3,e6,Bg2,c6,d3,Bd6,e4,Bg6,e5,Bb4+,Bd2,Bxd2+,Qxd2,Nd5,d4,O-O,a3,Qc7,O-O,Nd7,Rfe1,c5,Nd6,cxd4,Qxd4,Rfd8,Rac1,Qb6,b4,f6,Rc5,fxe5,Nxe5,Qxd6,Nxg6,hxg6,Rxd5,exd5,Bxd5+,Kh8,Re4,Nf6,Rh4+,Nh7', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/qKP6Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qKPXp', 'Rapid', 'bel_evg-1234', 1739, 'Abcsv', 1734, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Qa5,Bxc6+,bxc6,Bd2,cxd4,cxd4,Qb6,Bc3,Ne7,Ne2,Ba6,O-O,Nf5,Re1,Bb4,a3,Bxc3,bxc3,O-O,Nf4,Qb2,Nd2,Qxc3,Rc1,Qxd4,Rxc6,Qxf4,Rxa6,Qg5,Nf3,Qf4,Ra4,Qh6,g3,Rfd8,Ra6,Rd7,Qa4,Rad8,Rxa7,Rxa7,Qxa7,Rf8,a4,Qh5,Nd4,Nxd4,Qxd4,Qf3,Re3,Qf5,Rb3,Qc2,Qc3,Qd1+,Kg2,h6,a5,Ra8,Ra3,d4,Qc6,Rf8,a6,d3,a7,d2,a8=Q,Rxa8,Rxa8+,Kh7,Qe8,Qe2,Qxf7', 'Qe4+,Qf3,Qxf3+,Kxf3,d1=Q+', 'https://lichess.org/training/qKPXp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QKPZd', 'Rapid', 'douglaskirk', 2117, 'jayantabhakta1974', 1613, 'g3,Nc6,Bg2,b6,b3,Bb7,Bb2,e5,d3,d6,Nd2,Nf6,e3,Be7,Ne2,O-O,O-O,Re8,a3,d5,c4,e4,dxe4,dxe4,Nxe4,Nxe4,Bxe4,Bf6,Qc2,Rxe4,Bxf6,Qxf6,Qxe4,Na5,Qc2', 'Qf3,e4,Bxe4,Qxe4,Qxe4', 'https://lichess.org/training/QKPZd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QKqA6', 'Blitz', 'TheShredder', 2029, 'yayamon', 1883, 'f4,d5,Nf3,c5,e3,Nc6,b3,Nf6,Bb2,e6,Bb5,Be7,O-O,Qc7,d3,a6,Bxc6+,Qxc6,Nbd2,O-O,Qe1,b5,Qg3,Bb7,Ne5,Qc7,Ndf3,Rad8,a4,b4,Rae1,Ba8,Qh3,d4,Ng5,dxe3,Rxe3,h6,Rg3,Qb7,Nxe6,fxe6,Qxe6+,Kh7,Ng6,Nh5,Nxe7,Nxg3', 'Qg6+,Kh8,Qxg7#', 'https://lichess.org/training/QKqA6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QKsaW', 'Rapid', 'WhiskeyWarm', 1639, 'matencinq', 1683, 'c4,e6,d4,d5,cxd5,exd5,Nc3,c6,Nf3,h6,e3,Bg4,Be2,Nf6,h3,Bf5,O-O,Bb4,Qb3,Bxc3,bxc3,b6,Ba3,Nbd7,Rac1,c5,c4,O-O,cxd5,Be4,dxc5,Bxd5,Qb1,Re8,cxb6,Be4,Qb4,axb6,Nd4,Nd5,Qd6,N7f6,Qg3,Bh7,Bf3,Be4,Bxe4,Nxe4,Qg4,Ndf6,Qf4,Qd5,Rfd1,Qxa2,Bd6,Nd5,Qf3,f6,Ra1,Qb2', 'Rxa8,Rxa8,Qxe4', 'https://lichess.org/training/QKsaW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkSBv', 'Blitz', 'SuperRuddy', 2351, 'FM LuisFlaquer', 2449, 'd4,d5,c4,e6,Nf3,Nf6,g3,Nbd7,Qc2,c6,Bg2,Bd6,O-O,O-O,Nbd2,Re8,e4,Nxe4,Nxe4,dxe4,Qxe4,Nf6,Qe2,c5,Re1,cxd4,Nxd4,Bxg3,hxg3,Qxd4,Be3,Qe5,Rad1,Bd7,Bxb7,Rab8,Bg2,Rxb2,Qd3,Qh5,Bd4,e5,Bxb2,Bf5,Qd6,Ng4,Qd8,f6,Qd5+,Be6,Qf3,Bxc4,Bh3,Qxh3,Qg2,Qh5,Rd7,Be6,Rxa7,Qf5,Ra3,h5,Rc1,Qg6,Rf3,Bf5,Rfc3,Be4,f3,Ne3,Qf2,Bd5,Qxe3,Qxg3+,Kf1,Qh3+,Ke1,Qh1+,Ke2,Qh2+,Qf2,Qf4,Qe3,Qf5,Qf2,Rd8,Rc8', 'Rxc8,Rxc8+,Qxc8', 'https://lichess.org/training/QkSBv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qKsMF', 'Rapid', 'yakachoisir', 1854, 'genata', 1941, 'd4,d5,c4,e6,cxd5,exd5,Nc3,c6,a3,Nf6,Nf3,h6,Bg5,hxg5,Nxg5,Be7,e3,Be6,Bd3,Nbd7,Qb3,Qc7,h3,O-O-O,O-O-O,Ne4,Nxe6,fxe6,Nxe4,dxe4,Bxe4,Nf6,Bf3,Kb8,Kb1,e5,dxe5,Rxd1+,Rxd1,Qxe5,Bxc6,b6,Bb5,Rc8,Ba6,Rd8,Rc1,Nd5,f4,Qe4+,Ka1,Nc7,Be2,Ne6,Bf3,Qf5,g4,Qa5,Qxe6,Bf6,Qe4', 'Qxa3+,Kb1,Qxb2#', 'https://lichess.org/training/qKsMF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qksw8', 'Classical', 'FENER14', 1904, 'Colin70', 2008, 'e4,e6,d4,d5,e5,c5,dxc5,Nc6,Nc3,Nxe5,Bf4,Nc6,Nf3,Bxc5,Bd3,Nf6,O-O,O-O,Ng5,h6,Nf3,Bd6,Be3,a6,Qc1,Ng4,Bd2,Qf6,h3,Nge5,Nxe5,Nxe5,Be2,Bd7,f4,Nc4,Bxc4,Qd4+,Be3,Qxc4,Qd2,Bc5,Bxc5,Qxc5+,Kh1,Bc6,f5,d4,Ne2,exf5,Qxd4,Qxd4,Nxd4,Be4,Nxf5,Bxc2,Ne7+,Kh7,Rf2,Ba4,Raf1,f6,b3,Bb5,Rc1,Rae8,Nd5,Rf7,Kh2,Rd7,Nb6,Rd6,Nc4,Rc6,Kg3,Bxc4,Rxc4,Rxc4,bxc4,Rc8,Rc2,Rc5,Kf4,b5,Ke4,bxc4,Kd4,Re5,Kxc4,a5,a4,Kg6,Rd2,h5,h4,Re4+,Rd4,Re2,Kb5,Rxg2,Kxa5,Kf5,Rd5+,Kg4,Rd4+,Kf3,Kb6,f5,a5,f4,a6,Ra2,Kb7,Ke3,Rd5,f3,Rxh5,Ke4,Rh8,f2,Rf8,Ke3,a7,Ke2,Re8+,Kf3,Rf8+,Kg3,h5,Kg2,a8=Q', 'Rxa8,Rxa8,f1=Q', 'https://lichess.org/training/Qksw8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qktk7', 'Rapid', 'Sajid77', 1713, 'szbaszyniak', 1711, 'e4,Nc6,Bc4,e6,a3,d5,exd5,exd5,Ba2,Bc5,h3,Nf6,d3,O-O,Ne2,Re8,O-O,Ne5,Ng3,Nfg4,hxg4,Nxg4,Nd2,Qh4,Nf3,Qf6,Bxd5,g6,Be4,h5,Bg5,Qh8,Bh4,Be7,Bxe7,Rxe7,Ne2,h4,Nf4,Ne5,Ng5,Qh6,Ngh3,g5,Nd5,Re8,Nxc7,g4,Nxa8,gxh3,Nc7,Re7,Nd5,Re6,Ne3,Rg6,Nf5,Qg5,Nxh4,Qxh4,Bxg6,Bg4,Qe1,Nf3+,gxf3', 'h2+,Kg2,Qh3+,Kh1,Bxf3#', 'https://lichess.org/training/qktk7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkWbk', 'Classical', 'Marlov', 1879, 'chuckbranson', 1850, 'e4,d5,e5,Nc6,Nf3,d4,Bc4,f6,e6,Nh6,O-O,Qd6,Re1,Ng4,h3,h5,a3,Nce5,Ba2,Bxe6,Bxe6,Qxe6,Nxd4,Qd6,Nb5,Qb6,Qe2,O-O-O,N1c3,e6,d4,Rxd4,Nxd4,Qxd4,Nb5,Qb6,hxg4,hxg4,Be3,Bc5,Nxa7+,Qxa7,Bxc5,Qxc5,b4,Qd4,Rad1,Qf4,Qe4,Qh2+,Kf1,f5,Qxe5,Qh1+,Ke2,Qxg2,Qxe6+,Kb8,Qd5', 'Re8+,Kd3,Qxd5+', 'https://lichess.org/training/QkWbk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QKwHq', 'Rapid', 'Milann', 2003, 'Rin-chan', 2263, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,a6,Bd3,c6,Nge2,b5,b3,O-O,Be3,Nfd7,O-O,b4,Na4,c5,Rb1,cxd4,Bxd4,Ne5,Qc2,Nbd7,Be3,Qc7,Ng3,Nc5,Nxc5,dxc5,Be2,Rd8,Rbd1,Bb7,Rxd8+,Rxd8,Rd1,Nc6,Rxd8+,Nxd8,Bf1,Ne6,Ne2,Qd6,g3,h6,Qd2,Qxd2,Bxd2,Ng5,Kg2,Bc8,h4,Ne6,g4,Kh7,Kg3,Bf6,Bh3,a5,f4,Nd4,Nxd4,Bxd4,f5,Bb7,Kf4,g5+,hxg5,hxg5+,Kf3,Bf6,Bg2,Kh6,Be3,Bd4,Bxd4,cxd4,Bf1,Kg7,c5,e6,Bb5,Kf6,c6,Bc8,Bc4,Ke5,fxe6,fxe6,Bd3,Kd6,Bb5,Kc5,Ba4,Ba6,Kf2,Bd3', 'c7,Ba6,Bd7', 'https://lichess.org/training/QKwHq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkwOW', 'Blitz', 'joshuanov', 1571, 'FEMADEATHCAMPS', 1588, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,c4,e5,Ne2,Be7,Nbc3,Be6,b3,Nbd7,Bb2,O-O,h3,Qc7,Qd2,Rac8,Rc1,Rfd8,f4,exf4,Nxf4,Ne5,Be2,Qc5,Na4,Nxe4,Nxc5,Bh4+,Kd1,dxc5,Qxd8+,Rxd8+,Kc2,Rd2+,Kb1,Bf5,Bxe5', 'Nc3+,Ka1,Rxa2#', 'https://lichess.org/training/QkwOW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QKX0P', 'Blitz', 'slayerforlife2', 2007, 'IM Eugenerougon', 2648, 'e3,d5,d4,Nf6,Nf3,c5,Nc3,Nc6,Bd2,Bg4,Be2,e6,dxc5,Bxc5,O-O,O-O,Nb5,a6,Nbd4,Re8,Nxc6,bxc6,c3,e5,h3,Bh5,Nh2,Bg6,Ng4,Ne4,Nh2,Rb8,b4,Bd6,f3,Ng3,Re1,Qb6,Nf1,Nxe2+,Qxe2,c5,bxc5,Bxc5,Kh1,Qb2,e4,d4,cxd4,Bxd4,Be3', 'Qxe2,Rxe2,Bxa1', 'https://lichess.org/training/QKX0P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkXMg', 'Blitz', 'FM nicoderboss24', 2502, 'aaQwrD', 2441, 'e4,e5,Bc4,Bc5,d4,Bxd4,Nf3,Nc6,Nxd4,Nxd4,O-O,Nf6,f4,d6,fxe5,dxe5,Bg5,Ne6,Qxd8+,Kxd8,Bxf6+,gxf6,Nc3,c6,Rxf6,Ke7,Raf1,Rf8,Ne2,b5,Bb3,a5,a4,bxa4,Bxa4,Ba6,R6f2,Rad8,Bxc6', 'Bxe2,Rxe2,Nd4,Ref2,Nxc6', 'https://lichess.org/training/QkXMg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QKXNp', 'Blitz', 'Johungerbro', 1759, 'Yurchenko77', 1717, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,h4,Nf6,h5,Be4,Bg5,Bxf3,Qxf3,Be7,O-O-O,Nd5,Ne4,Bxg5+,Nxg5,Qxg5+,Kb1,Nd7,h6,g6,Qb3,N7b6,Bd3,Qxg2,c4,Nf4,c5,Nbd5,Qxb7,O-O,Bc2,Qxf2,Rdf1,Qe2,Bd1,Qd3+,Ka1,Rab8,Qxc6,Rxb2,Kxb2,Rb8+,Bb3,Qd2+,Ka1,Nd3,Rb1,N5b4,Rhd1,Nc2+,Bxc2,Rxb1+,Rxb1', 'Qc3+,Rb2,Qxb2#', 'https://lichess.org/training/QKXNp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qkxp4', 'Classical', 'SanthoshTamil', 1828, 'Qasim2005', 1981, 'e4,e5,Bc4,Nf6,Nf3,Nc6,O-O,Be7,d4,d6,d5,Nb8,Bd3,O-O,h3,h6,Nh2,Nbd7,f4,exf4,Bxf4,Ne5,Bxe5,dxe5,Kh1,Bd7,Nc3,c6,Qe2,Qa5,Rf3,Qb4,Rb1,Rac8,a3,Qc5,Rbf1,Nh7,Qd2,Ng5,Rg3,f5,exf5,cxd5,h4,Nf7', 'f6,Bxf6,Rxf6', 'https://lichess.org/training/Qkxp4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkXzz', 'Rapid', 'nemeslevente', 1777, 'JETHIN-S', 1783, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,c3,Nd7,f4,c5,Be3,cxd4,cxd4,Qa5+,Nc3,Rc8,Ne2,Bb4,O-O,Ne7,a3,Bxc3,bxc3,b6,Ng3,h5,Bd2,h4,Ne2,h3,g3,f6,Kh1,Nf5,c4,dxc4,Qc2,c3,Bxc3,Ne3', 'Qg6+,Kd8,Bxa5', 'https://lichess.org/training/QkXzz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qKYCH', 'Blitz', 'Rahimov_1973', 2415, 'FM Bassket', 2238, 'd4,d5,c3,c6,Nf3,Bg4,g3,Nd7,Bg2,e6,O-O,f5,Nbd2,Ngf6,Ne5,Nxe5,dxe5,Nd7,f3,Bh5,Qb3,Qb6+,Qxb6,axb6,e4,Nxe5,exd5,cxd5,Re1,Bd6,f4,Ng4,Bxd5,Bc5+,Kh1,O-O-O,Bxe6+,Kb8,b4,Be3,Nc4,Bf2,Rf1,b5,Na3,Bb6,Nxb5,Rd3,Bxf5,Rd5,Bxg4,Bxg4,Nd4,Bxd4,cxd4,Rxd4,Rb1,Re8,Kg2,Re2+,Rf2,Bh3+,Kf3,Ree4,a3,h5,Rd2', 'Bg4+,Kf2,Rxd2+,Bxd2,Re2+,Kg1,Rxd2', 'https://lichess.org/training/qKYCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QkZRb', 'Rapid', 'midasacru', 1842, 'huarsan2', 1942, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,h6,d3,d6,Nbd2,Qf6,Nf1,Bg4,N1d2,Nge7,h3,Bh5,g4,Bg6,a4,a6,b4,Ba7,b5,axb5,axb5,Nd8,Bb2,O-O,h4,Ne6,g5,hxg5,hxg5,Nxg5,Nxg5', 'Qxf2#', 'https://lichess.org/training/QkZRb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qKzug', 'Classical', 'idkidkdik', 1639, 'aNGEL1999', 1682, 'd4,g6,Nf3,b6,Bf4,Bb7,e3,Bg7,Bd3,d6,c4,e6,Nc3,Ne7,Qc2,a6,h4,h6,g4,Bxf3,Rg1,d5,cxd5,Nxd5,Bxg6,Nxc3,bxc3,Nd7,g5,hxg5,Rxg5,Bf6,Bxf7+,Kxf7,Qg6+,Ke7,h5,Rg8', 'Qh7+,Ke8,Rxg8+', 'https://lichess.org/training/qKzug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qL39G', 'Bullet', 'Lucas974', 2038, 'Mikle13', 2119, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nf3,Ne7,O-O,O-O,Bg5,f6,Bh4,Bf5,Bg3,c6,c3,Re8,Re1,Bxd3,Qxd3,Bxg3,hxg3,Qd6,Nbd2,Nd7,Nh4,Rad8,Nf5,Nxf5,Qxf5,Nf8,Nb3,Qd7,Qxd7,Nxd7,Kf1,Kf7,Na5,Rxe1+,Rxe1,Rb8,Re3,Nb6,b3,Nc8,Ke2,Ne7,b4,b6', 'Rxe7+,Kxe7,Nxc6+,Kd6,Nxb8', 'https://lichess.org/training/qL39G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qL7B0', 'Rapid', 'DUCOBU', 1773, 'kalasnjikov', 1648, 'f4,b6,Nf3,g6,e3,Bg7,d4,Bb7,Bd3,Nf6,O-O,e6,c3,Nc6,Qc2,Qe7,Ne5,d6,Nxc6,Bxc6,Nd2,O-O,Ne4,Nh5,Ng3,Nf6,Ne4,e5,Nxf6+,Bxf6,fxe5,dxe5,Be4,Bxe4,Qxe4,exd4,Qxe7,Bxe7,exd4,c6,Bh6,Rfe8,Rf3,Rad8,Raf1,f5,g4,fxg4,Rf7,Bd6', 'Rg7+,Kh8,Rff7', 'https://lichess.org/training/qL7B0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QL7IZ', 'Rapid', 'NM adil-tkachev', 2371, 'EmersonPVz', 2347, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,c6,Bxf6,exf6,cxd5,cxd5,Qb3,Be6,Qxb7,Nd7,Nxd5', 'Qa5+,b4,Qxd5', 'https://lichess.org/training/QL7IZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QL7mL', 'Rapid', 'NetworkZero', 2277, 'elinasaadtmandi', 2186, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,fxe4,dxe4,d6,Bc4,Bg4,h3,Bh5,g4,Bg6,Nc3,Nf6,Qd3,Qd7,a3,O-O-O,Be3,Nxe4,Nxe4,d5,Bxd5,Qxd5,Qxd5,Rxd5,Nfd2,Be7,O-O-O,Nd4,Bxd4,Rxd4,Rde1,Rhd8,Re2,Rf8,Rhe1,Bh4,Kb1,h5,Nc3,hxg4,hxg4,Rxf2,Nb3,Rxg4,Rxf2,Bxf2,Rxe5,Rg2,Re2,Bh5,Re5,Bf7,Re2,Rg1+,Ka2,Bd4,Rd2,Bxc3,bxc3,g5,Rf2,Bd5,Kb2,b6,Rf5,c6,Nd4,g4,Rg5,Kd7,Rg7+,Kd6,Rxa7,g3,Rg7,g2,Nf5+,Ke5,Nh4,b5,c4,bxc4,a4,c3+,Kxc3,Ra1,Nxg2,Rg1,a5,Rxg2,Rh7,Rg3+,Kb4,Rg4+,Ka3,Rc4,a6,Rxc2,a7,c5', 'Rh5+,Ke6,Rxd5', 'https://lichess.org/training/QL7mL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QL8f5', 'Blitz', 'OLM5111', 1926, 'jpiparia', 1939, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,h3,c6,c3,Nbd7,Bg5,Qc7,Qc2,Re8,Nbd2,Bf4,Rae1,g6,Bxf6,Nxf6,Rxe8+,Nxe8,Re1,Be6,Ne5,Ng7,Ndf3,Nf5,g3,Bh6,Ng4,Bg7,Ng5,c5,Nxe6,fxe6,Rxe6,cxd4,Bxf5,gxf5,Qxf5,dxc3,bxc3,Qxc3,Qxd5,Kh8,Kg2,Rf8,Qxb7,Bd4,Re7,Qc2,Rf7,Re8,Qd7,Qe4+,Kh2,h5,Ne5,Qxe5', 'Rh7+,Kg8,Qf7#', 'https://lichess.org/training/QL8f5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ql8ZO', 'Rapid', 'SHreza1344', 1616, 'eidgh044', 1634, 'f4,d5,d4,Bf5,Nf3,e6,e3,Be7,Bd3,Bxd3,Qxd3,Nf6,Nbd2,O-O,O-O,Nbd7,b3,c5,c3,Rc8,Qe2,cxd4,exd4,Rxc3,Bb2,Rc2,Rab1,Qa5,Qd3,Rcc8,Ne5,Nxe5,fxe5,Ne4,Nxe4,dxe4,Qxe4,Qxa2,Rf2,f5,Qd3,Rfd8', 'Ra1,Qxa1+,Bxa1', 'https://lichess.org/training/ql8ZO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ql9CW', 'Blitz', 'thomar', 2005, 'phiba', 2170, 'e4,e5,f4,d5,Nf3,exf4,exd5,Nf6,c4,c6,d4,cxd5,Bxf4,Bb4+,Nc3,O-O,Bd3,Re8+,Be5,dxc4,Bxc4,Nc6,O-O,Bg4,Qb3,Bxf3,Bxf7+,Kh8,Bxe8,Bxg2,Rxf6,gxf6,Qf7,Be7', 'Bxf6+,Bxf6,Qf8#', 'https://lichess.org/training/ql9CW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QLaO9', 'Rapid', 'bilalkagan', 1709, 'haedi', 1731, 'e4,c6,d4,d5,e5,e6,f4,c5,c3,Nc6,Nf3,Qb6,Nbd2,Bd7,Nb3,c4,Nbd2,Be7,Be2,Nh6,Nf1,Nf5,Ng3,Nxg3,hxg3,h6,g4,Qc7,f5,exf5,gxf5,Bxf5,Bf4,Qd7,Nh4,O-O,Nxf5,Qxf5,Qd2,f6,Bxh6,gxh6,Qxh6,Kf7,Bh5+,Ke6,Qg7,fxe5', 'Bg4,Qxg4,Qxg4+', 'https://lichess.org/training/QLaO9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QLbG2', 'Rapid', 'odinerickson1986', 1669, 'MarcusBayern', 1752, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Nxe4,Re1,Nc5,Nxe5,Nxe5,Bxf7+,Kxf7,Rxe5,Qf6,d4,d6,Re3,Nb7,Rf3,Bf5,g4,g6,gxf5,gxf5,Qd3,Rg8+,Kf1,Ke8,Rxf5,Qg6,Qe4+,Kd7,Nc3,Qg1+,Ke2,Re8,Rf7+,Kd8,Rxf8,Rgxf8,Be3,Rxf2+,Kd3,Qxa1,Qh4+,Re7,Bxf2,Qf1+,Kd2,c5,Nd5,Qe2+,Kc1,cxd4,Nxe7,Qxe7,Qxd4,Nc5', 'Bh4,Qxh4,Qxh4+', 'https://lichess.org/training/QLbG2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qLdeL', 'Rapid', 'bobbii', 1746, 'kuymak2', 1759, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,d3,Nc6,Bg5,Nd4,O-O-O,Be7,Bd5', 'Nxd5,Nxd5,Bxg5+', 'https://lichess.org/training/qLdeL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qldRj', 'Rapid', 'LeFoggy', 1957, 'Bavorak15', 1917, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bf4,c6,Nf3,Bg4,Be2,e6,h3,Bxf3,Bxf3,Be7,O-O,O-O,Re1,a5,Na4,Nbd7,c4,Nb6,Nxb6,Qxb6,b3,Rfd8,Be3,Qc7,Qc2,Rac8,Rad1,Qd6,Qc3,Qc7,h4,Bb4,Qc2,Bxe1,Rxe1,h6,Qc1,Kh7,Bf4,Qe7,Be5,Nd7,Be4+,Kg8,Bf4,Qxh4,g3,Qf6,Qe3,Kh8,Kg2,g5,Bd6,e5,dxe5,Nxe5,c5,Rxd6,cxd6,Qxd6,Rh1,Re8,Qxg5,Re6,Qf5,Rg6,Qc8+,Kg7,Bxg6,Qd5+,Kh2,fxg6,Qxb7+,Kf6,Qc8,Nf3+,Kh3,Qh5+,Kg2,Ne1+,Kf1', 'Qxh1+,Ke2,Qe4+', 'https://lichess.org/training/qldRj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qlEk2', 'Bullet', 'gintonico1978', 1679, 'SamuelSilver', 1757, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,cxd6,Nc3,Nc6,Nf3,Bg4,Be2,g6,Be3,Bg7,h3,Bxf3,Bxf3,O-O,d5,Ne5,O-O,Nbxc4,b3,Nxe3,fxe3,Rc8,Rc1,Qb6,Qe2,Nxf3+,Rxf3,Rxc3,Rcf1,Qc7,Kh1,Rc2,Qd3,f5,e4,fxe4,Qxe4,Rxf3,Qxf3,Rc1', 'Qf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/qlEk2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QLFax', 'Rapid', 'aleksandar_chess', 2129, 'Standunited', 2335, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,d6,O-O,O-O,Bg5,h6,Be3,Bxe3,fxe3,Na5,Nbd2,c6,Qc2,b5,Bb3,a6,a4,Ng4,Rae1,Nb7,d4,Re8,h3,Nf6,Nh4,Bd7,Nf5,Rc8,axb5,axb5,Rf2,Bxf5,Rxf5,Rc7,Ref1,c5,Bd5,Nxd5,exd5,cxd4,exd4,exd4,Nf3,dxc3,bxc3,Qc8,Nd4,Rxc3,Qf2,Nd8,Nxb5,Rc1,Nxd6', 'Rxf1+,Qxf1,Qc5+', 'https://lichess.org/training/QLFax');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qlhce', 'Rapid', 'mosole', 1904, 'RequiemSlash', 1887, 'e4,c5,Ne2,Nc6,Nbc3,Nf6,d4,cxd4,Nxd4,d6,Bg5,e5,Ndb5,a6,Na3,b5,Nd5,Bb7,Bxf6,gxf6,Bd3,Rg8,g3,Be7,c3,Na5,Qh5,Bxd5,exd5,Qb6,Qxh7,Rf8,O-O,O-O-O,b4,Nb7,c4,bxc4,Nxc4,Qxb4,Rfc1,Kb8,Rab1,Qa4,Nb6,Qxa2,Ra1,Qd2,Bxa6,Rh8,Qe4,Rxh2,Kxh2,Qxf2+,Qg2', 'Rh8#', 'https://lichess.org/training/Qlhce');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QlHei', 'Blitz', 'alv_mon_ros_1997', 1852, 'mihof', 1845, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,Re1,d6,c3,Bb6,d4,h6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Be3,Bxe3,Rxe3,Ke7,Nd2,Bb7,Nf3,Nd7,Bd5,Bxd5,exd5,Kd6,Rd1,Rhe8,b3,Nb6,Re2,Rad8,Rc2,Kc5,b4+,Kc4', 'Nxe5+,Rxe5,Rd4#', 'https://lichess.org/training/QlHei');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QLibG', 'Classical', 'fozzybaer', 1903, 'Karcz', 1648, 'c4,d6,g3,Nf6,Bg2,c6,Nf3,h6,O-O,e6,Nc3,d5,cxd5,cxd5,e3,Bd7,b3,Bd6,Bb2,Nc6,a3,Ne5,Qc2,Rc8,Rac1,Bb5,Rfd1', 'Bd3,Nxe5,Bxc2', 'https://lichess.org/training/QLibG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qLISh', 'Blitz', 'Wade1', 2259, 'FM ChevCheIios', 2289, 'Nf3,Nf6,c4,e6,g3,a6,Bg2,b5,b3,c5,O-O,Bb7,Bb2,Be7,Nc3,Qb6,Rb1,O-O,d4,cxd4,Qxd4,Qxd4,Nxd4,Bxg2,Kxg2,bxc4,bxc4,Rc8,Na4,Bd8,Rfc1,Nc6,Nxc6,Rxc6,Bd4,Rac8,Rb7,h5,Bxf6,Bxf6,c5,d6,Nb6,R8c7,Rxc7,Rxc7,c6,Bd4,Nd7,Ba7,a4,f5,a5,Kf7,f4,Ke7,Nb6,d5,Na8,Rc8,Nb6,Rc7,Na8,Rc8,c7,Kd6,Nb6,Rxc7,Nc8+,Kd7,Rxc7+,Kxc7,Nxa7,Kb7,Kf2', 'Kxa7,Ke3,Kb7,Kd4,Kc6', 'https://lichess.org/training/qLISh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QLJZN', 'Classical', 'PlixMax', 1672, 'drcharlya', 1738, 'd4,d5,c4,dxc4,e3,b5,a4,c6,Nc3,Bd7,d5,cxd5,Qxd5,e6,Qxa8,b4,Nb5,a6,Bxc4,axb5,Bxb5,Bxb5,axb5,Bd6,Nf3,Nf6,Bd2,Nd5,O-O,O-O,e4,Nc7,Qa5,Qf6,Bxb4,Bxb4,Qxb4,e5,Nd2,Rd8,f3,Rd4,Qa5,Qd6,Nb1,Qc5,Nc3', 'Ra4+,Kh1,Rxa5', 'https://lichess.org/training/QLJZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QLKWL', 'Classical', 'batinmadihbatinmadih', 1618, 'Alemand', 1706, 'd4,Nf6,Nf3,e6,g3,Nc6,Bg2,d5,O-O,g6,Nc3,Bg7,Bf4,Ne4,Ne5,Nxe5,dxe5,O-O,Nxe4,dxe4,Bxe4,f6,exf6,Bxf6,c3,e5,Bh6,Rf7,Bd5,Bf5,Bxf7+,Kxf7,Qxd8,Rxd8,Be3,b6,Rfd1,Rxd1+,Rxd1,Be7,h4,Ke6,Rd2,h5,Kg2,Bb1,a3,Ba2,Kf3,Bd5+,Rxd5,Kxd5,Bd2,c5,b3,b5,e4+,Kc6,Ke3,c4,bxc4,bxc4,Bc1,Kb5,Kd2,Ka4,Kc2,Bxa3,Bxa3,Kxa3,Kd2,Kb2', 'f4,exf4,gxf4', 'https://lichess.org/training/QLKWL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QllSs', 'Blitz', 'GMDayner', 1948, 'Magnus_CarlsenWannaB', 2037, 'e4,Nc6,Nf3,Nf6,e5,Nd5,d4,e6,c4,Bb4+,Bd2,Nf4,g3,Ng6,Bg2,O-O,O-O,d5,cxd5,exd5,h4,Bg4,Bc3,f6,Nbd2,Bxc3,bxc3,fxe5,dxe5,Ngxe5,Qb3,Bxf3,Nxf3,Nxf3+,Bxf3,Rxf3,Kg2,Rd3,Rad1,Na5,Qb5,Rxd1,Rxd1,c6,Qc5,Nc4,Rd4,Qf6,Rf4,Qxc3,Qe7,Qb2', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/QllSs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QlMY6', 'Bullet', 'cresty_dave', 2243, 'Sherkhan79', 2110, 'e4,c6,Nc3,d5,Nf3,Bg4,d3,e6,h3,Bh5,g3,Nf6,Bd2,Bg6,e5,Nfd7,Qe2,c5,O-O-O,Nc6,Bf4,a6,g4,b5,h4,h5,Bh3,Be7,Rdg1,b4,gxh5,Bxh5,Nxd5,exd5,e6,Nf6,exf7+,Kf8,Rxg7,Kxg7,Rg1+,Kf8,Qe6,Bxf3,Qxc6,Ra7,Qe6,Rd7,Bh6+,Rxh6', 'Rg8+,Nxg8,fxg8=Q#', 'https://lichess.org/training/QlMY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qloDI', 'Rapid', 'PossomKing', 1606, 'lrkreverin', 1660, 'e4,c5,d4,e6,Nf3,d5,e5,cxd4,c3,dxc3,Nxc3,Nc6,Bd3,Nge7,O-O,Ng6,Bg5,Be7,Be3,Ngxe5,Nxe5,Nxe5,Bb5+,Nc6,Qa4,Bd7,Rac1,a6,Bxc6,Bxc6,Qb3,O-O,Rfd1,Qc7,Bb6,Qc8,Ne2,Rd8,Nf4,Rd7,Qg3,Bd6,Bd4,e5,Nh5,g6,Nf6+,Kh8,Qh3,h5,Nxd7,Bxd7,Qf3,Bg4,Rxc8+,Rxc8,Bxe5+,Bxe5,Qxd5,Bxd1,Qxd1', 'Bxb2,Kf1,Rc1,Qxc1,Bxc1', 'https://lichess.org/training/qloDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qlPAl', 'Rapid', 'jivohan', 1786, 'gp58', 1702, 'e4,c5,d3,Nc6,Be3,b6,c3,e6,d4,d5,e5,g6,Nf3,Bh6,Bxh6,Nxh6,Qd2,Nf5,Bb5,O-O,h4,Bb7,h5,h6,hxg6,fxg6,g4,Ng7,Ng1,cxd4,Qxh6,dxc3,Nxc3,d4,Ne4,d3,Nf6+,Kf7,O-O-O,Nd4,Rxd3,Bxh1,Nd7,Rc8+,Kb1,Be4,Qf4+,Kg8,Qxe4,Nxb5', 'Nf6+,Rxf6,Rxd8+,Rxd8,exf6', 'https://lichess.org/training/qlPAl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qlpWW', 'Classical', 'Sl_star', 1692, 'sr_zarathustra', 1776, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Bxd7+,Bxd7,Re1,e6,c4,b5,b3,bxc4,bxc4,e5,d3,Ne7,Bg5,f6,Be3,Nc6,Nc3,Be7,Nd5,O-O,h3,Rb8,Rb1,Nb4,Nc3,Qa5,Qd2,f5,a3,Nc6,Nd5,Qd8,Qc3,fxe4,dxe4,Rxf3,Rxb8,Qxb8,gxf3,Bxh3,Nxe7+,Nxe7,f4,Qe8,f5,Qh5,Bd2,Nc6,Re3,Qd1+,Kh2,Bf1,Re1,Qh5+,Kg1,Bh3,Re3,Qg4+,Rg3,Qd1+,Kh2,Bf1,Bh6,Nd4,Bxg7', 'Qh5+,Kg1,Ne2+,Kxf1,Nxc3', 'https://lichess.org/training/qlpWW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qLpzS', 'Blitz', 'CM LUDVIG_CARLSSON', 2557, 'Nermid', 2434, 'f4,d5,Nf3,g6,e3,Bg7,d4,Nd7,c3,Ndf6,Bd3,Nh6,O-O,Bf5,Be2,O-O,Ne5,Be4,Nd2,Nf5,Nxe4,Nxe4,Bd3,Nfd6,Bd2,f6,Nf3,c6,Be1,Qb6,Qb3,Qxb3,axb3,a6,Nd2,Nxd2,Bxd2,f5,Be1,Ne4,Bxe4,fxe4,Bh4,e6,Be7,Rf7,Bd6,Rd8,Be5,Bxe5,fxe5,Rdf8,b4,Kg7,h4,Rf5,Rxf5,Rxf5,Rf1,Kh6,g4,Rxf1+,Kxf1,g5,h5,Kg7,Ke2,Kf7,Kd2,Ke7,Kc2,Kd7,Kb3,Kc7,Ka4,b6,Kb3,Kd7,Ka4,Kc7,b3,Kb7,Ka3,b5,Kb2,Kc7,Kc2,Kd7,Kc1,Ke7,Kd2,Kf7,Ke2,Kg7,Kf2,Kh6,Kg3,Kg7,Kh3,Kh6,Kh2,Kg7,Kh1,Kf7,Kg1,Ke7,Kf1,Kd7,Ke1,Kc7,Kd1,Kb6,Kc1,Kb7,Kb1,Kb6,Ka1,Kb7,Ka2,Kb6,Ka3,Kb7,Kb2,Kb6,Kc2,Kb7,Kd2,Kb6,Ke2,Kb7,Kf2,Kb6,Kg3', 'a5,bxa5+,Kxa5,b4+,Ka4', 'https://lichess.org/training/qLpzS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qLRiT', 'Rapid', 'subzerodochess', 1620, 'Anatol_lucky', 1639, 'd4,e6,e3,Nf6,Nf3,Bd6,Bd3,b6,Nbd2,Bb7,a3,Nc6,b4,Qe7,Bb2,h6,Qe2,Ng4,h3,Nf6,e4,Bf4,Nc4,d5,exd5,Nxd5,Be4,O-O-O,b5,Nb8,a4,Nd7,c3,f5,Bxd5,Bxd5,Nce5,Bxf3,Nxf3,g5,a5,g4,hxg4,fxg4,Nd2,h5,axb6,Nxb6,Rxa7,h4,Qe4,Bxd2+,Kxd2,Qg5+,Ke2,Qxb5+,Ke3,Qxb2', 'Qb7+,Kd7,Qxc7+,Ke8,Qe7#', 'https://lichess.org/training/qLRiT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qLsOl', 'Classical', 'joeggu', 1695, 'aman68', 1665, 'e4,g6,d4,b6,Nf3,Bb7,Nc3,Bg7,Bc4,d6,O-O,Nf6,d5,O-O,b4,Nbd7,Nd4,a6,Nc6,Bxc6,dxc6,Ne5,Bd5,e6,f4,exd5,fxe5,Nxe4,Nxe4,Bxe5,Bg5,f6,Qxd5+,Kg7,Bxf6+,Bxf6,Nxf6,Rxf6,Qd4,Kf7,Rxf6+,Qxf6,Qxf6+,Kxf6,Re1,Kf7,a4,Re8,Rxe8,Kxe8,c4,Ke7,Kf2,Ke6,Ke3,Ke5,b5,axb5,axb5,h5,h4,Kf5,g3,Ke5,Kd3,Kf5,Kd4,Kg4,Kd5,Kxg3', 'Ke6,Kxh4,Kd7,g5,Kxc7', 'https://lichess.org/training/qLsOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QLT17', 'Rapid', 'ElizabethJennings', 1974, 'qwerty7778', 1806, 'c4,e5,Nc3,Nf6,g3,c5,Bg2,Nc6,Nf3,Be7,O-O,O-O,e3,a6,d4,exd4,exd4,cxd4,Nxd4,Nxd4,Qxd4,Rb8,Bf4,d6,Rad1,Ne8,Rfe1,Bf6,Be5,dxe5,Qxd8,Bxd8,Rxd8,f6,Nd5,Kf7,Nb6,Nc7,Rxc8,Rfxc8,Nxc8,Rxc8,Bxb7,Rb8,Bd5+,Nxd5,cxd5,Rxb2,Rd1,Ke7,d6+,Kd7,a3,Rb6,Kf1,Rxd6,Rb1,Kc6,Ke2,Rd5,a4,a5,Rc1+,Rc5,Rb1,Rc2+,Ke3,Rc3+,Kd2,Ra3,Rc1+,Kd6,Kc2,Ra2+,Kb3,Rxf2,Rd1+,Ke6,Rh1,e4,Re1,Ke5,Kc4,Ra2,Kb5,Rxh2,Kxa5,Rg2,Kb6,Rxg3,a5,Ra3,a6,f5,a7,h5,Re3,Rxa7,Kxa7,g5,Kb6,f4,Re1,e3,Kc5,Ke4,Kc4,g4,Kc3,h4,Kc2,h3,Kd1,f3,Rg1,e2+,Ke1,Kf4,Kf2,h2,Rh1,g3+,Ke1,Ke3,Rxh2', 'f2+,Rxf2,gxf2#', 'https://lichess.org/training/QLT17');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QLTbL', 'Rapid', 'drsaxo', 2087, 'elbambino69', 2033, 'd4,Nf6,c4,e6,Nf3,c5,d5,b5,dxe6,fxe6,cxb5,d5,e3,Bd6,Nc3,O-O,Be2,Bb7,O-O,Qe7,b3,Nbd7,Bb2,e5,e4,d4,Bc4+,Kh8,Nd5,Nxd5,Bxd5,Bxd5,exd5,e4,Nd2,Rf5,Nc4,Bxh2+,Kxh2,Qh4+,Kg1,Rh5,f4,e3,Qxh5,Qxh5,d6,Nf6,Rf3,Re8,Re1,Nd5,d7,Rd8,Rh3,Qf7,Ne5,Qxf4', 'Ng6+,Kg8,Nxf4', 'https://lichess.org/training/QLTbL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qLTlT', 'Rapid', 'luissjl', 1696, 'arslanatalay7', 1726, 'd4,d5,Bg5,Bf5,e3,Nc6,c3,a6,Bd3,Be6,Nf3,Bg4,Nbd2,h6,Bh4,g5,Bg3,f5,Qc2,Qd7,h3,Bxf3,Nxf3,e6,Ne5,Nxe5,Bxe5,Rh7,Qb3,O-O-O,Qc2,Rf7,b4,c6,a4,Bd6,Bxd6,Qxd6,b5,cxb5,axb5,Rc7,bxa6,bxa6,Bxa6+,Kd7,Qa4+,Ke7,c4,Ra8,c5,Qd8,O-O,Rca7,Qb5,Nf6,Rfb1,Ne8,Qc6,Qc7,Rb7', 'Rxb7,Qxb7,Qxb7,Bxb7,Rxa1+', 'https://lichess.org/training/qLTlT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qlUSA', 'Classical', 'RedBaron17', 1800, 'chessslowgamer', 1727, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,Bd3,d5,O-O,d4,Ne2,Bd6,f4,O-O,f5,Bd7,c3,c5,cxd4,cxd4,Bg5,Rb8,b3,h6,Bh4,Be7,h3,Qb6,Ng3,Rfc8,Nh5,Nxh5,Qxh5,Bxh4,Qxh4,f6,Rf3,Rf8,Rg3,Kh8,Rg6,Rf7,Bc4,Re7,Rd1,Bb5,Bd3,Bxd3,Rxd3,Qa6,Rdg3,Rbb7,Rxh6+,gxh6', 'Qxh6+,Rh7,Qf8#', 'https://lichess.org/training/qlUSA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qLv8K', 'Rapid', 'ltl', 1818, 'ahmedbakeer', 1831, 'd4,d5,h3,Nc6,Nf3,Nf6,Bf4,Bf5,c3,e6,e3,Bd6,Ne5,Ne4,Bd3,Nxe5,dxe5,Bc5,f3', 'Qh4+,g3,Nxg3', 'https://lichess.org/training/qLv8K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QLVB1', 'Blitz', 'jongy', 2324, 'Leunarm', 2260, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nge7,c4,Nd4,Be3,Nxd5,cxd5,Be7,Bxd4,exd4,Qxd4,O-O,Be2,f5,O-O,Bf6,Qd2,fxe4,Nc2,Bxb2,Rab1,Be5,Nb4,Qh4,g3,Qf6,Nc6,Bh3,f4,Bxf1,Rxf1,Bc3,Qe3,Rfe8,Rc1,b4,a3,a5,Bg4,h5,Bd7,Rf8,Qxe4,Ra6,Be6+,Kh8,Qf3,Rxc6', 'Qxh5+,Qh6,Qxh6+,gxh6,dxc6', 'https://lichess.org/training/QLVB1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QLwcQ', 'Rapid', 'SamurayRifki03', 1709, 'omaring', 1701, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Qe7,Nc3,Be6,Nd5,Bxd5,Qxd5,O-O-O,Be3,Nf6,Qb5,Nxe4,O-O-O,a6,Qd5,Nf6,Qf5+,Qd7,Qa5,Ng4,Ba7,c5,Bxc5,dxc5,Rxd7,Rxd7,Bd3,Nxf2,Bf5,Nxh1,Qa4,Kb8,Qxd7,Nf2,Qc8+,Ka7,Kd2,g6,Bd7', 'Bh6+,Ke1,Rxc8', 'https://lichess.org/training/QLwcQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QlWrS', 'Rapid', 'Berser99', 1987, 'EmanuelDesperado', 2032, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,cxd4,Nxd4,e5,Nb3,Qxd1+,Kxd1,Nf6,f3,Be6,Ke2,O-O-O,Be3,Be7,N1d2,Nh5,g3,f5,Bb6,Rdf8,Rae1,g5,Kd1,fxe4,fxe4,Bh3,Re3,Nf6,Rd3,Bd8,Bxd8,Rxd8,Kc1,Ng4,Rxd8+,Rxd8,Nf3', 'Bg2,Re1,Bxf3', 'https://lichess.org/training/QlWrS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QLxrm', 'Rapid', 'Utred-00', 1990, 'SamDooley', 2109, 'e4,c5,c3,Nf6,Nf3,Nxe4,Qa4,Nf6,Be2,e6,O-O,Be7,d4,cxd4,cxd4,O-O,Bg5,Nd5,Bxe7,Qxe7,Nc3,Nf6,Rac1,d5,Rfe1,Nc6,Bd3,Bd7,Qc2,g6,Qd2,Nb4,Bb1,Kg7,a3,Nc6,h3,b6,Ne5,Na5,Ba2,Rac8,Nxd7,Qxd7,Ne2,Nc4,Bxc4,dxc4,Red1,b5,Nc3,a6,d5,Nxd5,Nxd5,Qxd5', 'Qc3+,Kg8,Rxd5', 'https://lichess.org/training/QLxrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qly3V', 'Blitz', 'sonny22', 1698, 'Nichelino', 1702, 'e4,g6,c4,Bg7,Nc3,c6,d4,e6,e5,d5,c5,b6,b4,bxc5,bxc5,Ne7,Bg5,O-O,Nf3,Nd7,a4,f6,exf6,Nxf6,Ne5,Qc7,Be2,Nf5,O-O,h6,Bxf6,Rxf6,f4,Ne3,Qd3,Nxf1,Rxf1,g5,Bh5,gxf4,Ne2,Rf5,Bg6,Rxe5,dxe5,Qxe5,Nxf4,Qg5,Bh7+,Kh8,Ng6+,Kxh7', 'Nf8+,Kg8,Qh7#', 'https://lichess.org/training/Qly3V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qlYrb', 'Classical', 'Tekei_Moutu', 1863, 'Ahmet559', 1776, 'd4,d5,e3,Nf6,c4,e6,cxd5,exd5,Nf3,Bg4,Be2,Nc6,O-O,Bd6,Nfd2,h5,Nc3,Qd7,Qe1,O-O-O,Bb5,Rde8,Bxc6,Qxc6,f3,Bf5,f4,Bd3,Rf3,Ng4,Nf1,h4,h3,Nf6,Bd2,Nh5,Qf2,f6,Rc1,Be4', 'Nxe4,dxe4,Rxc6', 'https://lichess.org/training/qlYrb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qlYVt', 'Rapid', 'Rasomon', 2049, 'maxtocantins', 1992, 'd4,Nf6,Nf3,d6,Bf4,Bg4,Nc3,a6,h3,Bf5,e3,g6,Bd3,Bxd3,Qxd3,Bg7,O-O,O-O,Ne4,Nbd7,Bg5,Nd5,c4,Nb4,Qc3,c5,a3,Nc6,h4,f6,Bf4,Nb6,b3,Re8,Qd3,e5,dxe5,fxe5,Bg5,Qc7,Bf6,Kh8,Nfg5,Nc8,Qd5,Bxf6,Nxf6,Kg7,Ne6+,Rxe6,Qxe6,N8e7,Ng4,Rf8,h5', 'Nd8,h6+,Kh8,Qf6+,Rxf6', 'https://lichess.org/training/qlYVt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QM0Ao', 'Rapid', 'Terminator123', 1712, 'LeonK92', 1669, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Bf4,O-O,Qd2,Bg4,Bh6,Bxf3,gxf3,Nc6,Bxg7,Kxg7,Be2,e5,d5,Nd4,h4,h5,f4,Nxe2,Nxe2,exf4,Nxf4,Qe7,f3,Rfe8,O-O-O,c6,Qd4,cxd5,Nxd5,Qd8,Rdg1,Re6,Qc3,Rc8,Qd4,Kf8,Ne3,Qa5,a3,Qc7,Rd1,d5,c3,dxe4,fxe4,Nxe4', 'Qh8+,Ke7,Nd5+', 'https://lichess.org/training/QM0Ao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qm0ii', 'Rapid', 'edzilber', 2274, 'lot', 2020, 'd4,d5,e3,Nf6,Bd3,c6,Nd2,Bg4,f3,Bh5,g4,Bg6,g5,Bxd3,cxd3,Nfd7,f4,f5,Ngf3,e6,Ne5,Nxe5,dxe5,g6,h4,Kf7,h5,Bg7,h6,Bf8,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,Nd7,O-O,Nb6,b3,Qe7,a4,a5,Rac1,Nd7,Qc3,Qb4,Rfd1,Qxc3,Rxc3,Ra6,e4,Nb6,exf5,gxf5,Kh2,Nd7,d4,Rc8,Rdc1,Nf8,Kg3,Ng6,Nh4,Rca8,Nf3,Rb6,Ne1,Rb4,Nd3,Rxd4,Kf3,Rb4,Ke3,Rd8,Rc5,Ra8,Nxb4,axb4,Rd1,Nh4,Rd4,Ng2+,Kf2,Nh4,Rxb4,Ra7,a5,Ng6,Kg3,Ne7,Ra4,Ra6,b4,b5,Ra1,Kg6,Rac1,Kf7,Kh4,Kg6,R1c2,Kf7,Kh5,Ra8,Rxc6,Nxc6,Rxc6,Ra7,Rc5,d4,Rc1,d3,Rd1,Rd7,Kh4,Rd4,Kg3,d2,Kf3,Ke7,Ke3,Re4+,Kf3,Rd4,g6,hxg6,h7,Rd8,a6,Rh8,Rxd2,Rxh7,Ke3,Rh8,a7,Ra8,Ra2,Kd7,Kd4,Kc6,Ra6+,Kb7,Rxe6,Rxa7,Rxg6,Kc8,Rf6,Rc7,Rxf5,Rc4+,Kd5,Rxb4,Kc5,Rb1,Kc6,Kd8,Rf7,b4,f5,b3,Kd6', 'Rd1+,Ke6,b2,Rb7,b1=Q,Rxb1,Rxb1', 'https://lichess.org/training/Qm0ii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QM1hM', 'Blitz', 'Guary1', 2659, 'IM Filip88', 2598, 'Nf3,Nf6,c4,g6,e3,d6,d4,Bg7,Nc3,O-O,Be2,Nbd7,O-O,e5,b3,Re8,Ba3,e4,Nd2,Nf8,Qc2,Bf5,Kh1,h5,Rg1,N8h7,Nd5,Nxd5,cxd5,Nf6,Rac1,Re7,Nf1,h4,g4,hxg3,Rxg3,Nxd5,Nd2,Nf6,Rcg1,Qd7,Qd1,Kh7,Rg5,Rh8,Nf1,Kg8,Ng3,Bh3,d5,Bh6,Rh5,Nxh5,Nxh5,Kf8,Bb2,Rg8,Nf6,Qf5,Nxg8,Kxg8,Rg3,Bg7,Bxg7,Kxg7,Kg1,Qd7,Qd4+,Re5,Qxa7,Rxd5,Qxb7,Rc5,f4,exf3,Qxf3,Rc1+,Kf2,Be6,e4,Qc6,Qe3,Rc2,a4,Rb2', 'Qd4+,Kg8,Qxb2', 'https://lichess.org/training/QM1hM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qM5Vm', 'Rapid', 'Perpolo', 1869, 'punisher5555', 1854, 'e4,Nf6,Nc3,d6,Nf3,g6,Bc4,Bg7,d3,a6,a4,O-O,h4,c5,Ng5,Nc6,h5,Bg4,f3,Bxh5,g4,h6,Nh3,Bxg4,fxg4,Nd4,Nf2,g5,Nd5,Nxd5,Bxd5,e6,Ba2,Qb6,c3,Qa5,Bd2,Nc6,Rf1,b5,Nh1,b4,Bc4,bxc3,bxc3,Ne5,Qb3,Rab8,Qa2,Nxc4,Qxc4,d5,exd5,exd5,Qxd5,Bxc3,Bxc3,Qxc3+,Kf2,Rb2+,Kg3,Qd2,Rf2,Qe3+,Qf3', 'Qe5+,Kg2,Rxf2+,Nxf2,Qxa1', 'https://lichess.org/training/qM5Vm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qm6Tn', 'Bullet', 'crafto81', 2198, 'CM Johansson', 2229, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,c4,d6,O-O,Nbd7,h3,e5,Nc3,c6,Bg5,h6,Bd2,exd4,Nxd4,Qb6,Nb3,Ne5,Be3,Qc7,Nd2,Be6,b3,Rad8,Rc1,d5,cxd5,Nxd5,Nxd5,Bxd5,Bxd5,Rxd5,Qc2,Rfd8,Rfd1,Qe7,Bxa7,Qg5,Be3,Qh5,Ne4,Qxh3,Rxd5,cxd5,Nd2,d4,Qc7,Rd7,Qc8+,Kh7,Bxd4,Ng4,Qxd7', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/Qm6Tn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qm7nS', 'Rapid', 'chwilliams1', 1813, 'medovyxa1337', 1892, 'e4,e5,Bc4,Nf6,Qe2,Bc5,Bxf7+,Kxf7,Qc4+,d5,Qxc5,Nxe4,Qe3,Nc6,Nf3,Bg4,d3,Bxf3,gxf3,Nd4,Na3,Ng5,Qxg5', 'Nxf3+,Ke2,Nxg5', 'https://lichess.org/training/qm7nS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qmbdO', 'Rapid', 'TMC1697', 1641, 'robert_deguzman1124', 1746, 'g3,d5,Bg2,e5,e3,Nc6,c3,Be6,d4,e4,b3,Nf6,c4,Nb4,Bf1,Bg4,f3,exf3,Nxf3,Be7,a3', 'Bxf3,Qxf3,Nc2+,Kd2,Nxa1', 'https://lichess.org/training/qmbdO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QMBzV', 'Rapid', 'rzzky', 1765, 'AndrUA', 1880, 'd4,Nf6,c4,e6,Bg5,d5,Nc3,c6,cxd5,cxd5,e3,Nc6,a3,Be7,Bd3,h6,Bh4,Nd7,Bg3,O-O,Nge2,Nb6,Bc2,Nc4,Qd3,f5,Rb1,Qa5,O-O,Bd6,f3,Qd8,e4,Qg5,Bxd6,Nxd6,exd5,Ne7,dxe6,Bxe6,d5,Bf7,Rbe1,Rad8,Kh1,a6,g4,Bg6,Nd4,f4,Ne4,Nxe4,fxe4,Rxd5,Bb3,Rd8,Ne6', 'Rxd3,Nxg5+,Rxb3', 'https://lichess.org/training/QMBzV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qmCdo', 'Rapid', 'kingaree', 1872, 'ramiro70', 1881, 'e4,d5,e5,e6,d4,c5,Nf3,Qb6,c3,Nc6,Be2,Bd7,O-O,Nge7,b3,Nf5,dxc5,Bxc5,b4,Be7,a4,Qc7,Bb5,Nxe5,Nxe5,Qxe5,Bxd7+,Kxd7,f4,Qf6,Bb2,Rhc8,Qd2,Qg6,Na3,Ke8,Nb5,Kf8,Nd4,Nxd4,cxd4,Rc4,b5,Rac8,Rfc1,Bb4,Qxb4+,Rxb4,Rxc8+,Ke7,Ba3,Qd3,Bxb4+,Kf6,Rac1', 'Qxd4+,Kh1,Qxb4', 'https://lichess.org/training/qmCdo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qMFwx', 'Rapid', 'xAkagame', 1817, 'YA7IYA', 1684, 'e4,d6,d4,e5,Bc4,Nf6,dxe5,Nxe4,Qe2,d5,Nf3,Bc5,Be3,dxc4,Qxc4,Bxe3,fxe3,Ng5,O-O,Be6,Qb5+,Nc6,Nc3,Nxf3+,Rxf3,O-O,Raf1,Nd4,exd4,Qxd4+,R1f2,f6,exf6,Rae8,f7+,Bxf7,Rxf7', 'Re1+,Qf1,Rxf1+', 'https://lichess.org/training/qMFwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qmFYc', 'Classical', 'Nimaaa73', 1760, 'Gr8_m8_m8_Im_ir8', 1718, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nf3,Bb4+,Nc3,Nge7,Bb5,Nf5,Qa4,Bxc3+,bxc3,Bd7,Ba3,a6,Bxc6,Bxc6,Qb4,Bb5,Nd2,Rc8,Nb3,b6,Nd2,Qc7,g4,Ne7,f4,Nc6,Qd6,Na5,Qxc7,Rxc7,Rc1,Kd7,Kf2,Rhc8,Bb4,Nc4,Nxc4,Rxc4,Rb1,a5,Bxa5,bxa5,Rxb5,Rxc3,Rxa5,Rd3,Ra7+,Ke8,Rb1,Rxd4,Ke3,Rdc4,a4,Rc3+,Kf2,Kf8,a5,Rc2+,Kg3,Ra2,Rbb7', 'Rc3+,Kh4,Rxh2+,Kg5,h6#', 'https://lichess.org/training/qmFYc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QMH40', 'Blitz', 'Julmarganit', 1662, 'sapidtoast', 1635, 'd4,Nf6,c4,c5,Nf3,b6,g3,g6,Bg2,Bb7,O-O,Bg7,Nc3,O-O,Bg5,h6,Bxf6,Bxf6,e3,Kh7,Qc2,d6,Rfe1,Nd7,Rad1,Bg7,Ng5+,hxg5,Bxb7,Rb8,Bg2,Rh8,Ne4,Bf6,Nxf6+,Nxf6,dxc5,bxc5,b3,Kg7,e4,e5,Qd2,Rb6,Qxg5,Rh5,Qe3,Ng4,Qe2,Nxh2,Rd2,Qg5,Red1,Ng4,Rxd6,Qh6,Rxb6', 'Rh1+,Bxh1,Qh2+,Kf1,Qxh1#', 'https://lichess.org/training/QMH40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QMH9H', 'Rapid', 'thebeast0798', 1645, 'bucak63', 1646, 'd4,Nf6,e3,g6,c4,Bg7,Nc3,O-O,Nf3,d6,h3,c5,Be2,cxd4,Nxd4,e5,Nf3,e4,Nd2,Re8,Qc2,Qc7,Ncxe4,Nxe4,Nxe4,d5,Nd2,dxc4,Bxc4,Be6,O-O,b5,Bb3,Qxc2,Bxc2,Nc6,Bb3,Nb4,Bxe6,Rxe6,a4,bxa4,Rxa4,Nd3,b4,Nxc1,Rxc1,Rb6,Rb1,a6,Nc4,Rc6,b5,Re6,b6,Re4,b7,Rb8,Rxa6,Rxc4,Ra8,Be5,Rd1,Bc7', 'Rxb8+,Bxb8,Rd8+', 'https://lichess.org/training/QMH9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qmHpO', 'Rapid', 'missa1977', 1810, 'jackcarter', 1812, 'e4,c5,Bc4,e6,c3,d5,exd5,exd5,Bb3,Nc6,Nf3,Nf6,O-O,Be7,d3,O-O,Re1,Re8,h3,b6,Bf4,Bb7,Nbd2,d4,c4,Bf8,Qc2,Rxe1+,Rxe1,Qd7,Ba4,Qf5,Bh2,Nb4,Qb3,Qxd3,Qxd3,Nxd3,Rb1,Nb4,a3,Na6,Ne5,Nb8,f3,Bd6,Nxf7', 'Bxh2+,Kxh2,Kxf7', 'https://lichess.org/training/qmHpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qMjdg', 'Rapid', 'ponouangoula', 2181, 'Eduard_Koliada_UKR', 2343, 'e4,e6,d4,g6,c3,Bg7,Bd3,Nc6,Nf3,d5,e5,Nge7,Bg5,O-O,h4,h6,Be3,Nf5,Bxf5,exf5,g3,Re8,Nbd2,Qe7,Nb3,b6,Qd2,Bd7,Bxh6,f6,O-O,fxe5,dxe5,Nxe5,Nxe5,Qxe5,Bxg7,Kxg7,Rfe1,Qd6,Qd4+,Kg8,Rad1,c5,Rxe8+,Rxe8,Qxd5+', 'Qxd5,Rxd5,Re1+,Kg2,Bc6', 'https://lichess.org/training/qMjdg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QmJmt', 'Rapid', 'rafaella_bog', 1615, 'Baruk_Israel', 1601, 'd4,g6,c4,Bg7,Nc3,c6,e4,Qb6,e5,e6,Nf3,Ne7,Be2,O-O,O-O,Na6,h3,Nf5,b3,d5,c5,Qa5,Bd2,Qd8,Bxa6,bxa6,Qe2,h6,Na4,Nh4,Nxh4,Qxh4,Qe3,f6,exf6,Bxf6,Qxh6,Qxh6,Bxh6,Bxd4,Bxf8,Bxa1,Bd6,Bg7,Re1,Bd7,Re3,Re8,Nc3', 'd4,Re4,dxc3', 'https://lichess.org/training/QmJmt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QmjpQ', 'Rapid', 'moloko7', 1698, 'VARIS777', 1672, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Be7,Bc4,Nf6,Nc3,Ne5,Bb3,d6,O-O,O-O,h3,a6,Be3,Bd7,Nd5,Nc6,f3,Na5,Nf5,Nxb3,axb3,Nxd5,Qxd5,Bc6,Qc4,Bf6,c3,Qd7,Nd4,Bb5,Nxb5,axb5,Qd5,c6,Qd2,Ra6,Rfd1,Be7,Bd4,Rfa8,Rxa6,Rxa6,Bc5,Ra2,Bxd6,Bxd6,Qxd6,Qxd6,Rxd6,g6,Rd2,Kf8,Kf1,Ke7,Ke2,b6,c4,bxc4,bxc4,c5,Ke3,Ke6,Kf4,f6,g4,g5+,Kg3,Ke5,h4,gxh4+,Kxh4,Kf4,Rf2,Ra1,Kh3,Rd1,Kg2,h6,Rc2,Rd3,Rf2,Ke3,Kg3,Rd1,Kg2,Rd2,Rxd2,Kxd2,g5,hxg5,Kg3,Ke3,Kg4,Kd4,Kf5,Kxc4', 'Kxf6,Kb3,e5', 'https://lichess.org/training/QmjpQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QmJTc', 'Blitz', 'yash1306', 1809, 'mmhhnn', 1570, 'e4,c5,Nf3,Nc6,d4,d5,e5,e6,c3,cxd4,cxd4,Bd7,Bb5,Rc8,Nc3,a6,Bd3,Nb4,Be2,Be7,O-O,f6,a3,Nc6,Bd3,fxe5,Nxe5,Nf6,f4,O-O,Be3,h6,Ne2,Nxe5,fxe5,Nh7,Nf4,Ng5,Ng6,Rxf1+,Qxf1,Be8,Nxe7+,Qxe7,Bxg5,Qxg5,Qf3,Qd2,Rf1,Bb5', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/QmJTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qmk0E', 'Rapid', 'Mabunmi', 1891, 'Buyukusta_Abhaz', 1972, 'e4,e5,d4,f5,c3,fxe4', 'Qh5+,g6,Qxe5+,Qe7,Qxh8,Qg7,Qxg7', 'https://lichess.org/training/qmk0E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qMkoR', 'Classical', 'Maxim_MaximovBG', 2097, 'GianKarloArca', 2138, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,a6,c5,Nbd7,g3,h6,Bg2,e6,Bf4,Nh5,Be3,Qc7,O-O,e5,b4,e4,Nd2,f5,f4,Be7,Nb3,O-O,Bd2,Ndf6,e3,g5,a4,gxf4,exf4,Ng4,Bh3,Nhf6,Bxg4,Nxg4,h3,Nf6,b5,axb5,axb5,Be6,b6,Qd7,Be3,Kh7,Kh2,Rg8,Ra7,h5,Qa1,Rxa7,bxa7,Ra8,Qa4,Qc7,Ra1,b5,Qa5,Qb7,Qa6,Qc7,Nxb5,cxb5,Qxe6,Rxa7,Qxf5+,Kg7,Qg5+,Kf7,f5', 'Ng4+,hxg4,Bxg5', 'https://lichess.org/training/qMkoR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QMKVZ', 'Rapid', 'Imadsh', 1613, 'RenataFischer', 1710, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Nxd4,Nxd4,Qxd4,Be6,Nc3,Bxc4,Qxc4,c6,Bf4,Be7,O-O-O,Nf6,e5,Nh5,exd6,Nxf4,Qxf4', 'Bg5,Rhe1+,Kf8', 'https://lichess.org/training/QMKVZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QMMGQ', 'Blitz', 'gntccnr', 1604, 'rightinpark', 1606, 'd4,d5,e4,dxe4,Nc3,Bf5,f3,exf3,Qxf3,Bg6,Qxb7,Nd7,Be3,Bxc2,Bb5,Nf6,Nf3,e6,Bg5,Be7,Ne5,O-O,Bxf6,Nxf6,O-O,Bd6,Rac1,Bf5,Bc6,Rb8,Qxa7,Rxb2,Nb5,Ng4,Nxd6,cxd6,Nxg4,Bxg4,Bf3,Bxf3,Rxf3,Qg5', 'Qxf7+,Rxf7,Rc8+,Qd8,Rxd8+,Rf8,Rfxf8#', 'https://lichess.org/training/QMMGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QmmK2', 'Blitz', 'GM Arbakov', 2542, 'Toril_DC', 2396, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,Ne2,h6,Bxf6,Qxf6,a3,Bxc3+,Nxc3,c6,Qd2,Nd7,O-O-O,b6,h4,Bb7,Kb1,O-O-O,Qe3,g5,f3,Rdg8,h5,Rd8,Be2,Rhe8,e5,Qe7,f4,Rg8,g4,a6,f5,c5,Bf3,Kb8,f6,Qf8,Ne2,cxd4,Nxd4,Rc8,Be2,Qc5,Rd2,Qc7,Nf3,Qc5,Qd4,Qxd4,Rxd4,Nc5,Rdd1,Ne4,Rhg1,Rgd8,Nd4,Nf2,Rde1,Ne4,Kc1,b5,c3,Ka7,Bd3,Nc5,Kd2,Kb6,Bg6,Rc7,Bc2,a5,Rd1,b4,axb4,axb4,cxb4,Na6,b5,Nb4,Bb3,Rdc8,Rc1', 'Rxc1,Rxc1,Rxc1,Kxc1,Nd3+', 'https://lichess.org/training/QmmK2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qmMWt', 'Rapid', 'ferrucciolari', 1690, 'alkampone123', 1754, 'e4,d5,exd5,Nf6,d4,Bg4,Be2,Bxe2,Nxe2,Qxd5,O-O,e6,Bf4,Bd6,c3,Nbd7,Nd2,O-O,c4,Qf5,Bxd6,cxd6,b3,Ne4,Nxe4,Qxe4,Ng3,Qf4,Re1,d5,c5,Nf6,b4,a5,b5,Qc7,a4,Nd7,Rc1,Rac8,Qb3,e5,Qxd5,exd4,Qxd4,Nxc5,Ne4,b6,Qa1,Rfe8,Ng3,Rxe1+,Rxe1,Nd3,Nf5,f6,Rd1,Qc1', 'Ne7+,Kf7,Nxc8', 'https://lichess.org/training/qmMWt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qmNnE', 'Rapid', 'Noy47', 1921, 'TALEKSANDR', 1990, 'e4,e6,c4,d5,e5,Nc6,d4,a6,c5,b6,cxb6,cxb6,Be3,Bb4+,Nc3,Nge7,a3,Bxc3+,bxc3,Nf5,Qd2,Nxe3,Qxe3,b5,Nf3,O-O,Bd3,f6,O-O,fxe5,Nxe5,Nxe5,Qxe5,Qf6,Qxf6,Rxf6,f3,Bd7,Rfe1,Rc8,Rac1,Be8,Re3,Bg6,Bxg6,Rxg6,g3,Rc4,f4,Ra4,Ra1,Kf7,Kg2,Kf6,Re5,Rc4,Rc1,Kf7,Kf3,h5,h4,Rh6,f5,Ra4,Ra1,Rc4,Rc1,exf5,Rxf5+,Ke6,Re5+,Kd6,Kf4,Rc8,Kf3,Rf6+,Kg2,g6,Rc2,Rcf8,Rce2,a5,Kh3,Rc8,R2e3,b4,cxb4,axb4,axb4,Rc4,b5,Rb4,Ra3,Rxd4,Ree3,Kc5,Rec3+,Kxb5,Rcb3+,Rb4,Rd3,d4,Ra7,Kc4,Rd1,Rd6,Rc7+,Kb3', 'Rb1+,Ka3,Ra7+,Ra4,Ra1+', 'https://lichess.org/training/qmNnE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qmozG', 'Blitz', 'sibenico66', 2044, 'Sweetrejections', 2061, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Qd5,f6,exf6,Nxf6,Qd1,d5,g3,Bg4,Bg2,O-O-O,O-O,h5,b3,Ne4,Bb2,Rg8,Nbd2,g5,a4,h4,h3,hxg3,fxg3,Nxg3,hxg4,Nxe2+,Kf2,Qc5+,Kxe2,Re8+,Ne4', 'Rxe4+,Kd2,Qe3#', 'https://lichess.org/training/qmozG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qMQIt', 'Classical', 'imaga', 1738, 'Biyocan', 1795, 'e4,e6,d4,b6,Nc3,Bb7,Bd3,Nf6,Nf3,h5,Bg5,Be7,Bxf6,Bxf6,e5,Be7,h4,g5,hxg5,Bxg5,Ne4,Bxe4,Bxe4,Nc6,d5,exd5,Bxd5,Qe7,Bxc6,dxc6,Nxg5,Qxg5,Qf3,Qxe5+,Kf1,Qb5+,Kg1,O-O-O,Qxf7,Rdf8,Qb3,Qe2,Rf1,Rh6,Rh3,Rhf6,Re3,Qd2,Rd3,Qh6,Qa4,Kb8,Qa6,Rxf2', 'Rxf2,Qc1+,Kh2', 'https://lichess.org/training/qMQIt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QMW1g', 'Rapid', 'sav_alexandr', 1806, 'Mahmoud19962007', 1941, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nf6,h3,d6,O-O,O-O,d3,h6,Qe2,Be6,Nd5,a6,a4,Nb4,Nxf6+,Qxf6,c3,Bxc4,dxc4,Nc6,b4,Ba7,b5,Ne7,Be3,Bxe3,Qxe3,b6,Nh2,Qe6,Qd3,a5,f4,exf4,Rxf4,Ng6,Rf2,Ne5,Qe2,Qxc4,Qc2,Rae8,Rd1,Nd7,Rd4,Qe6,Re2,Nc5,Ng4,Qg6,Nf2,Re7,Kh1,Rfe8,Kh2,d5,Rxd5,Nxe4,Nxe4,Rxe4,Rxe4,Qxe4,Qd1,Qe1,Qf3,g6,Rd7,Re7,Rd8+,Kg7,Rd1,Qe3,Qc6,Qf4+,Kh1,Qxa4,Rf1,Qe4,Qf6+,Kg8,Rd1,Qe5', 'Rd8+,Re8,Qxe5', 'https://lichess.org/training/QMW1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QMWit', 'Rapid', 'kotlon', 1823, 'zamir2618', 1890, 'd4,d5,c4,Bf5,cxd5,Qxd5,Nc3,Qd8,e4,Bg6,Bc4,e6,Nf3,h6,O-O,a6,a4,Bh5,Be3,Bd6,h3,Bb4,Qe2,Bxc3,bxc3,Ne7,Rfb1,b6,Rb2,O-O,Rab1,Nbc6,Bxa6,Bxf3,gxf3,Na5,Bb5,Ng6,Kh1,Qf6,Rg1,Nf4,Qf1,Ng6,Be2,Nf4,Bxf4,Qxf4,Qg2,g6,Qg4,Qf6,f4,Rad8,e5,Qe7,Bd3,Qe8,h4,h5,Qxh5,Kg7,Qg5,Rh8,h5,Qc6+,Kh2,Qf3,Rg3', 'Rxh5+,Qxh5,Qxh5+', 'https://lichess.org/training/QMWit');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qMxgK', 'Blitz', 'lelouis', 1575, 'reza_taj', 1612, 'd4,Nf6,Nf3,b6,Bd2,Bb7,e3,c5,dxc5,bxc5,Be2,g6,c4,Bg7,Nc3,d5,cxd5,Nxd5,Rc1,O-O,O-O,Qb6,Qc2,Na6,Nxd5,Bxd5,b3,Rac8,Qd3,Bb7,Qb1,Rfd8,Rfd1,Nb4,a3,Nc6,Bc4,Ne5,Nxe5,Bxe5,Qc2,Qc7,Re1,Bxh2+,Kf1,Be5,f4,Qc6,Re2,Bf6,Bc3,Bxc3,Qxc3,Rd6,Qe5,Rcd8,Qxe7', 'Rd1+,Rxd1,Rxd1+,Kf2,Qxg2#', 'https://lichess.org/training/qMxgK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qmyc3', 'Classical', 'tesic23', 1611, 'egda', 1617, 'e4,e5,d3,h6,Nf3,Nf6,Be2,Nc6,O-O,Bc5,Nc3,a6,Na4,b6,Nxc5,bxc5,b3,d5,exd5,Nxd5,Ba3,Nc3,Qd2,Nxe2+,Qxe2,Qd5,Bb2,Bg4,c4,Qd6,h3,Bxf3,Qxf3,O-O,Rae1,Rfe8,Qg3,Re7,f4,exf4', 'Qxg7#', 'https://lichess.org/training/qmyc3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qMydI', 'Rapid', 'govent', 1798, 'Gamburg-69', 1742, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,b5,Bb3,Bb7,Re1,Na5,c3,Nxb3,Qxb3,Ng6,d4,exd4,cxd4,Be7,d5,O-O,e5,Bc5,Bg5,Qc8,Qc3,d6,Nbd2,Bxd5,Nb3,Bxf3,Nxc5,Qg4,Qxf3,Qxf3,gxf3,dxc5,Rad1,h6,Bc1,Rfe8,f4,Nh4,Re3,Nf5,Rc3,c4,Rd7,c5,b3,Nd4,Kf1,cxb3,axb3,Ne6,Kg2,Red8,Rcd3,Nd4,Rc7,Rdc8,Rd7,Rd8,Rc7,Rdc8,Re7,Ne6,Rdd7,Rf8,f5,Nd4,e6,Nxf5,Rxf7,Rae8,Rxf8+,Kxf8', 'Rf7+,Kg8,Rxf5', 'https://lichess.org/training/qMydI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qMzSR', 'Rapid', 'mpinis', 1713, 'A_R_D-A', 1745, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,Bd6,Bg3,O-O,Nbd2,c5,c3,Qc7,Bd3,Nbd7,Qe2,a6,O-O,b5,Bxd6,Qxd6,dxc5,Nxc5,Bc2,e5,e4,Re8,Rad1,Bg4,Rfe1,Rad8,h3,Bh5,g4,Bg6,exd5,Nxd5,Bxg6,fxg6,Ne4,Nxe4,Qxe4,Nf6', 'Rxd6,Nxe4,Rxd8', 'https://lichess.org/training/qMzSR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QMZUn', 'Blitz', 'FM Arvinder_Amateur', 2247, 'Vivo_per_lei', 2244, 'b3,Nf6,Bb2,g6,e4,Bg7,Nf3,O-O,e5,Nd5,c4,Nb6,d4,d6,Bd3,c5,dxc5,dxc5,O-O,Nc6,Re1,Bg4,h3,Bxf3,Qxf3,Nxe5,Bxe5', 'Bxe5,Rxe5,Qd4', 'https://lichess.org/training/QMZUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qN3Dh', 'Rapid', 'ansari14581', 1906, 'BlueskullFireWalker', 1925, 'e4,e6,Nf3,d5,d4,Nf6,e5,Nfd7,Bb5,c5,c3,Nc6,O-O,a6,Bxc6,bxc6,Re1,cxd4,cxd4,c5,dxc5,Bxc5,Be3,Bxe3,Rxe3,O-O,Nd4,Qc7,Qg4,Nxe5,Qg5,Ng6,Nc3,Bb7,Rg3,e5,Nf5,Rfe8,h4,h6,Nxh6+,gxh6,Qxh6,Re6,h5,Rd8,Kh2,Rdd6,Rh1,f5,Kg1,Qh7,Qg5,Qg7,Qxf5,Rf6,Qc2,Kf7,hxg6+,Rxg6,Nxd5,Bxd5,Qc7+,Kf8,Qc8+,Ke7,Qc7+,Rd7,Qc5+,Ke6,Qb6+,Rd6,Qb8,Bc6,Qc8+,Bd7,Qc4+,Ke7,Qh4+,Rdf6,Qb4+,Kd8,Qb8+,Bc8', 'Rd3+,Rd6,Rxd6+,Rxd6,Qxd6+', 'https://lichess.org/training/qN3Dh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qn4ND', 'Rapid', 'burhan4it', 1845, 'Anarchismm', 1853, 'e4,c5,f4,e6,Nf3,d5,e5,Nc6,c3,c4,Be2,Bc5,d4,cxd3,Qxd3,Nge7,Be3,Qb6,Bxc5,Qxc5,b4,Qb6,Nbd2,Nf5,Nb3,d4,Nfxd4,Ncxd4,Nxd4,Nxd4,Qxd4,Qc6,O-O-O,Bd7,Qd6,Qxc3+,Kb1,Ba4,Qd4', 'Qc2+,Ka1,Qxe2', 'https://lichess.org/training/qn4ND');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QN4PZ', 'Rapid', 'pavel1965', 1683, 'Sekimaps', 1670, 'd4,d5,c4,dxc4,e4,e6,Bxc4,h6,Nc3,Be7,Nge2,Nf6,e5,Nfd7,O-O,O-O,f4,a6,f5,exf5,Bd3,Nb6,Bxf5,Bxf5,Rxf5,Nc6,Be3,Nd5,Nxd5,Qxd5,Ng3,Rad8,e6,Qxe6,Qf3,Bd6', 'd5,Qe8,dxc6', 'https://lichess.org/training/QN4PZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qn7Cs', 'Classical', 'Addict_c', 1699, 'Jez1984', 1661, 'd4,d5,c4,dxc4,Nc3,e6,Bf4,Bd6,Nh3,Nf6,e3,O-O,Bg5,Nbd7,Bxc4,c6,O-O,Nb6,Bd3,Nbd5,Ne4,Bc7,Bc4,h6,Bxd5,hxg5,Nxf6+,Qxf6,Be4,e5,Qh5,Bf5,Bxf5,Qxf5,Nxg5,Bd8,h4,exd4,e4,Qg6,Qxg6,fxg6,Rfe1,Ba5,Red1,c5,Ne6,Rfc8,Rac1,Bb6,Rc4,Rc6,Nf4,g5,hxg5,Bc7,Nd5,Bd8,f4,b6,Rdxd4,b5,Rc2,c4,b3,c3,Rxc3', 'Rxc3,Nxc3,Bb6', 'https://lichess.org/training/qn7Cs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qn8jf', 'Blitz', 'jhgj', 1820, 'Jon4zzz', 1786, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d3,Bg4,O-O,Nf6,Nbd2,O-O,Re1,h6,h3,Bd7,Nf1,Nh7,d4,exd4,cxd4,Bb4,Re2,Kh8,a3,Ba5,b4,Bb6,Bb2,Qe7,Ng3,Rae8,Nf5,Qd8,Qc1,Bxf5,exf5,Rxe2,Bxe2,Qf6,d5,Ne5,Nh2,Re8,Ng4,Qxf5,Nxe5,dxe5,Bg4,Qd3,Ra2,Qxd5,Qb1,Nf6,Bf3,e4,Be2,Qf5,Qf1,Nh5,Bxh5,Qxh5,Bc3,f5,Rc2,c6,Qc4,Qf7,Qe2,Rd8,Qe1,Qb3,Qc1,Rd3', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/Qn8jf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qN984', 'Rapid', 'Enedredion', 1975, 'highfivebra', 1946, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,h3,Nc6,d5,Ne5,Nxe5,dxe5,Bg5,e6,Be2,exd5,Bxf6,Qxf6,cxd5,Qg5,h4,Qxg2', 'Bf3,Bg4,Bxg2', 'https://lichess.org/training/qN984');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qNaA2', 'Blitz', 'PanSebus', 1640, 'L-a', 1643, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,h6,d3,d6,Nd5,Nf6,h3,O-O,Be3,Nd4,Nxd4,Bxd4,Bxd4,exd4,Qf3,Be6,O-O-O,Nxd5,Bxd5,Bxd5,exd5,Qg5+,Kb1,Rae8,Rhe1,a5,a3,b5,Re4,Qxd5', 'Rxe8,Qxf3,Rxf8+,Kxf8,gxf3', 'https://lichess.org/training/qNaA2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qnBLP', 'Rapid', 'niebodzwon', 2064, 'Shadowkillers', 2017, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,Bb6,dxe5,dxe5,Qxd8+,Nxd8,Nxe5,Nf6,Bg5,Bxf2+,Kf1,Bb6,Nd2,Be6,Bxe6,Nxe6,Bxf6,gxf6,Ng4,O-O-O,Nc4,h5,Nxb6+,axb6,Nxf6,Rd2,b3,Rh6,Nd5,Rg6,Ne7+,Kd7,Nxg6,fxg6,g3,Ng5,h4,Nxe4,Ke1,Rd3,Rd1', 'Rxd1+,Kxd1,Nf2+,Ke2,Nxh1', 'https://lichess.org/training/qnBLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QnBRu', 'Blitz', 'FM SrPopando', 2515, 'NM Girome', 2411, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Bc4,e6,Bb3,d5,e5,Nfd7,f4,Nc6,h4,Nxd4,Bxd4,f6,exf6,Nxf6,Qd2,Nh5,Bxg7,Kxg7,O-O-O,Rxf4,Ne2,Rxh4,Qc3+,Kg8,Rhf1,Ng7,Nd4,Bd7,Nf3,Re4,Qd2,Nf5,Ng5,Rg4,Nf3,Rg3,Kb1,Qf6,Qf4,Rxg2,Ne5,Bc6,Rde1,Rf8,Ba4,Qg5,Qb4,Bxa4,Qxa4,Ne3,Rxf8+,Kxf8,Nd7+,Kg7,Qa3,Rg1', 'Qf8#', 'https://lichess.org/training/QnBRu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qNCEo', 'Classical', 'Andrepkb', 1791, 'levvah', 1742, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,Ne4,Qb3,Bxc3+,bxc3,O-O,Bf4,c5,e3,f5,Bd3,Nc6,O-O,b6,Qc2,Nf6,Bd6,Re8,Nd2,Bb7,dxc5,bxc5,Bxc5,Qc7,f4,Ng4,h3,Nf6,Rab1,d6,Rxb7,Qxb7,Bxd6,Qd7,c5,Nd5,Re1,Nde7,e4,Nc8,e5,N8e7,Nc4,Nd5,Ne3,Nxf4,Ba6,Ng6,Qa4,Ngxe5,Nc2,Nf7,Nb4,Nxd6,cxd6,Nb8', 'Bb5,Qxd6,Bxe8', 'https://lichess.org/training/qNCEo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QNEqw', 'Blitz', 'MrCheveux', 1800, 'mossdebs', 1913, 'e4,d6,d4,Nf6,Nc3,g6,Bc4,Bg7,a4,O-O,Nf3,c6,Be3,d5,Ba2,dxe4,Nd2,Bf5,O-O,h5,f3,exf3,Nxf3,Nd5,Nxd5,cxd5,Ne5,Bxe5,dxe5,e6,Rxf5,exf5,Bxd5,Nc6,c4,Nxe5,Bd4,Nc6,Bc3,Qb6+,Kh1,Rad8,Qf3,a5,Qg3,Kh7,Rf1,Nb4,Rxf5,Nxd5', 'Rxh5+,gxh5,Qg7#', 'https://lichess.org/training/QNEqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QnFdq', 'Blitz', 'BLOODTHIR5TY', 1536, 'mf_hasan', 1528, 'd4,Nf6,Bf4,g6,Nc3,Bg7,Nb5,d6,Qd3,a6,Nc3,O-O,e3,Nbd7,Nf3,Re8,Nd2,c5,d5,b5,e4,b4,Nd1,Nh5,Be3,Bxb2,Rb1,Bg7,Be2,Nb6,Bxh5,c4,Bxb6,cxd3,Bxd8,dxc2,Rc1,Rxd8,Ne3,gxh5,O-O,Bc3,Nb3,Bd7,Rxc2,Ba4,Nf5,Rac8,Nxe7+,Kf8,Nxc8,Rxc8,f3', 'Bxb3,Rxc3,Rxc3,axb3,Rxb3', 'https://lichess.org/training/QnFdq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qngwJ', 'Blitz', 'IM IljaSir', 2434, 'TysonRidley', 2512, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f3,Nbd7,g4,b5,g5,b4,Nd5,Nxd5,exd5,Bf5,Bd3,Bg6,h4,Nb6,h5,Bxd3,Qxd3,Qc7,O-O-O,Be7,Kb1,Nc4,Bc1,a5,g6,fxg6,hxg6,h6,Nd2,Nb6,Ne4,Qc4,Qxc4,Nxc4,b3,Nb6,Be3,Nd7,f4,O-O,fxe5,Nxe5,Rhg1,Rf5,Bd4,Rc8,Nd2,Nd7,Nc4,Rxd5,c3,bxc3,Bxc3,Rxd1+,Rxd1,a4,Re1,Bg5,Re6,d5,Rd6,Nf8,Rxd5,axb3,axb3,Nxg6,Rb5,Be7,Rb7,Bf8,Bd4,h5,Ne3,Rd8,Nf5,Rd5,Nxg7,Rxd4,Nxh5,Rb4', 'Nf6+,Kh8,Rh7#', 'https://lichess.org/training/qngwJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QNL5G', 'Rapid', 'ZabylZabyloff', 1954, 'marc4u', 1932, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qd2,b5,Bd3,Bb7,O-O,Be7,a4,b4,Nce2,Nxe4,Qxb4,Nc5,Bxe7,Qxe7,f3,O-O,a5,Nc6,Nxc6,Bxc6,Qd2,Qa7,Kh1,e5,Ng3,d5,b4,Ne6,Rfe1,f6,Rad1,Rad8,Bf5,Rfe8,Bxe6+,Rxe6,Qc3,Rc8,Qb3,Qb7,c4,d4,Rb1,Kh8,b5,Be8,Kg1,Bf7,Ne4,Re7,Nd6,Qb8,Nxc8,Qxc8,Rec1,Rb7,Qa4,Be8,Qd1,Qc5,Qe1,Qa3,Qb4,Qe3+,Kh1,Kg8,Re1,Qd3,Kg1,axb5,cxb5,Rxb5,Rbd1,Qxd1', 'Qc4+,Kh8,Rxd1', 'https://lichess.org/training/QNL5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qNLBT', 'Bullet', 'CarlosGarces', 1902, 'Karsa1468', 1919, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Bf5,Bg5,e6,Nf3,Nbd7,Be2,Bb4,O-O,h6,Bxf6,Qxf6,Qb3,Bxc3,bxc3,b6,cxd5,exd5,Qxd5,O-O,Bb5,Rfd8,Bxd7,Bxd7,Ne5,Be6,Qf3,Qg5,Rfe1,Rac8,Rac1,Bd5,Qg3,Qd2,Red1,Qe2,c4,Bxc4,Nxc4,Rxc4,Qe3,Qxa2,Rxc4,Qxc4,Qe5,a5,d5,Qc2,Re1,a4,d6,a3,h3,a2,d7,Rf8,Qe8,Qc7,Qxf8+,Kh7,Re8,Qc1+,Kh2,a1=Q,Qh8+,Kg6,d8=Q', 'Qf4+,g3,Qxf2#', 'https://lichess.org/training/qNLBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QnLjO', 'Blitz', 'GM Nurlan_Ibrayev', 2556, 'FM Manuel_Ochoa', 2484, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,O-O,h3,Bb7,d4,Re8,Nbd2,Bf8,Bc2,h6,Nf1,exd4,cxd4,Nb4,Ng3,Nxc2,Qxc2,c5,d5,Nd7,Bf4,c4,Nf5,Nc5,Rad1,Nd3,Rxd3,cxd3,Qxd3,Qf6,b3,g6', 'Nxh6+,Bxh6,Bxh6', 'https://lichess.org/training/QnLjO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qNloz', 'Rapid', 'Bjarne_V', 1892, 'BubinderPussia', 1806, 'e4,Nc6,Nf3,f5,exf5,d5,d4,Bxf5,Bd3,Bxd3,Qxd3,Nf6,Bg5,Qd6,Nc3,O-O-O,Nb5,Qe6+,Be3,a6,Nc3,Nb4,Qd2,Ne4,Nxe4,Qxe4,Qxb4,Qxc2,O-O,e5,Rfc1', 'Qxc1+,Rxc1,Bxb4', 'https://lichess.org/training/qNloz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qnLTq', 'Blitz', 'gpasca', 1822, 'drdanilo', 1817, 'e4,c5,Nf3,Nc6,Bc4,Nf6,Nc3,e6,d3,d5,exd5,exd5,Bb5,Bg4,h3,Bh5,O-O,Be7,Bg5,O-O,Qe2,Nd4,Qd1,Nxf3+,gxf3,Nd7,Bf4,Bg5,Bg3,Ne5,Bxe5,Bh4,Bg3,Qg5,Kh2,Bxg3+,fxg3,f5,Qc1,f4,g4,Qh4,Rg1,Qf2+,Rg2,Qxf3,gxh5,Qxh5,Qg1,f3,Rxg7+,Kh8,Rf1,f2,Rxf2,Rxf2+,Qxf2,Kxg7,Qg3+,Kh6,Qf4+,Qg5,Qxg5+,Kxg5,Nxd5,Rf8,Kg3,a6,Bc4,b5,Bb3,a5,c3,h5,Bd1,h4+,Kg2,Rd8,Bf3,b4,c4,a4,b3,axb3,axb3,Ra8,Ne3', 'Ra2+,Kf1,Kf4,Ng4,Kxf3', 'https://lichess.org/training/qnLTq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QNmHM', 'Rapid', 'invalidcharacter', 1762, 'asus111', 1840, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,Bc5,Nxc6,Qxc6,Qg4,Bf8,Nc3,d5,exd5', 'Qxc3+,bxc3,Bxg4', 'https://lichess.org/training/QNmHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qnMqp', 'Blitz', 'billyparham', 2055, 'TomasMann', 2081, 'e4,c6,d4,d5,e5,c5,dxc5,Bf5,Be3,e6,c4,Qa5+,Nc3,dxc4,Bxc4,Bxc5', 'Bb5+,Nc6,Bxc5', 'https://lichess.org/training/qnMqp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qNoB6', 'Rapid', 'tato83', 1813, 'Meyzo', 1802, 'd4,d5,c4,c5,dxc5,e6,cxd5,exd5,Nf3,Bxc5,Nc3,Nf6,Bg5,d4,Ne4,Nbd7,Nxc5,Qa5+,Qd2,Qxc5,Qxd4,Qa5+,Qd2,Qb6,g3,O-O,Bg2,Ne4,Be3', 'Nxd2,Bxb6,Nxf3+', 'https://lichess.org/training/qNoB6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qnOBL', 'Rapid', 'sladimir69', 1783, 'Frack1', 1805, 'e4,e6,Nc3,d5,e5,c5,d3,Nc6,f4,Bd7,Nf3,f6,exf6,Nxf6,h3,Be7,Be2,O-O,O-O,Nh5,Ne5,Ng3,Rf3,Nxe2+,Qxe2,Nxe5,Qxe5,Bf6,Qh5,Bd4+,Kh1,Rf5,Qg4,Qf6,Rg3,Bc6,Ne2,Bf2,Rf3,Bd4,Nxd4,cxd4,Rg3,Rf8,Rf3,Rf7,Bd2,Bd7,Raf1,b6,Bb4,a5,Bd6,b5,Be5,Qe7,Bxd4,b4,Be5,a4,h4,Bc6,d4,Bb5,R1f2,Qd7,h5,Qc6,h6,g6,Qh4', 'Rh5,Qxh5,gxh5', 'https://lichess.org/training/qnOBL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QnQ6Y', 'Rapid', 'kaiju91', 1923, 'William7', 1833, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,Be2,Nbd7,f3,b5,g4,b4,Nd5,a5,g5,Nxd5,exd5,Bf5,Bb5,Be7,h4,Qc7,Bc6,Rc8,Qe2,O-O,Nd2,Bxc2,Rc1,Bf5,O-O,Qd8,Ne4,Nb8,Ng3,Bg6,h5,Nxc6,Rxc6,Bxh5,Rxc8,Qxc8,Nxh5,Qh3,Qh2,Qxh2+,Kxh2,Rc8,Rc1,Rxc1,Bxc1,a4,Kg3,g6,Nf6+,Bxf6,gxf6,h5,Kh4,Kf8,Bd2,b3,a3,Ke8,Bb4,Kd7,Kg5,Kc7,Kh6,h4,Kg7,h3,Kxf7,h2,Ke7,h1=Q,Bxd6+,Kb7,Bxe5,Qh8,d6,Kc6,f4,Qa8,f7,Qb7+,Ke6,Qc8+,Kf6,Qd8+,Kg7,Qd7,Kg8,Qe6,Kg7,Qd7,Kxg6,Qe6+,Bf6,Qg4+', 'Bg5,Qe6+,Kg7', 'https://lichess.org/training/QnQ6Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qNROc', 'Rapid', 'rocardinha', 2348, 'Zote_M', 2278, 'd4,Nf6,Nf3,d5,c4,c6,e3,Bg4,Nc3,e6,h3,Bh5,cxd5,exd5,g4,Bg6,Ne5,Bd6,h4,h6,Nxg6,fxg6,Bd3,O-O,Bxg6,Nbd7,f4,Qe7,Kf2,Bb4,g5,Bxc3,bxc3,Ne4+,Bxe4,Qxe4,Ba3,Rfe8,Re1,hxg5,hxg5,Nb6,Bd6,Nc4,Be5,Rf8,Qh5,Nxe5,dxe5,Qxe5,Rac1,Rae8,Kg3,Qf5,Re2', 'Rxe3+,Rxe3,Qxf4+', 'https://lichess.org/training/qNROc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qnry1', 'Rapid', 'GenMaDev', 1626, 'Barista73', 1641, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Nf6,Bg5,Nc6,Qd2,Qc7,O-O-O,a6,Kb1,Bg7,Bh6,Bxh6,Qxh6,Ng4,Qg7,Rf8,Qxh7,Nxf2,Nd5,Qa5,Nxc6,bxc6,Nxe7,Kxe7,Qh4+,f6,Qxf2,Be6,a3,Rab8,Qd4,Rfd8,Bc4,d5,exd5,cxd5,Ba2,Rb7,Rhf1,Rdb8,Qxf6+,Kd6,Qf4+,Kd7,Qd4,Rxb2+,Qxb2,Rxb2+,Kxb2,Qb5+,Kc1,Qc5,Rf6,Qxa3+,Kd2,Qb4+,Ke2,Qe4+,Kf1,Qe5,Rxg6,Qxh2,Bxd5,Qh1+,Ke2,Qh5+,Kf2,Qxg6', 'Be4+,Kc7,Bxg6', 'https://lichess.org/training/qnry1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qNTUX', 'Rapid', 'nzinga', 1851, 'Uros1981', 1798, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,O-O,Be2,e5,d5,c6,g4,Qa5,f3,cxd5,cxd5,Bxg4,fxg4,Nxe4,Qc2,Nxc3,Qxc3,Qxd5,Qd2,Qxh1', 'Bf3,Qxf3,Nxf3', 'https://lichess.org/training/qNTUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qnv0k', 'Rapid', 'VincV', 1921, 'M_BISHOP_PAIR', 1820, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,a6,a3,Qc7,d3,Nf6,Be2,b5,O-O,b4,axb4,cxb4,Nb1,Bc5+,Kh1,Ng4,Qe1,Qb6,h3,h5,hxg4,hxg4+,Nh2,Nd4,Bd1,f5,c3,Nb3,Bxb3,bxc3,Ba4', 'cxb2,Bxb2,Qxb2', 'https://lichess.org/training/qnv0k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qnW5w', 'Classical', 'King1981', 1871, 'bens_90', 1886, 'e4,c5,f4,d5,e5,e6,Nf3,Ne7,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Nf5,d3,d4,Nbd2,Ne3,Qe2,Nxf1,Qxf1,Be7,Ne4,f5,Nfg5,fxe4,Nxe6,Qb6,Nxg7+,Kd8,dxe4,Rg8,Nf5,c4,Qxc4,d3+,Kh1,Qg6,g3,Rc8', 'Qxc8+,Kxc8,Nxe7+,Kc7,Nxg6', 'https://lichess.org/training/qnW5w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QNwhj', 'Rapid', 'Badgames', 1960, 'Butron', 1885, 'Nc3,d5,e4,d4,Nce2,e5,Ng3,a6,Bc4,Nf6,Nf3,Bg4,Bxf7+,Kxf7,Nxe5+,Ke8,Nxg4,Bd6,Nxf6+,Qxf6,O-O,Rf8,d3,Nd7,f4,Qh4,Qh5+,Qxh5,Nxh5,g6,e5,Bc5,Ng3,Nb6,Ne4,Be7,Bd2,Kd7,a4,Rae8,b3,Nd5,Rf3,Kc8,c4,Nb6,Raf1,Nd7,Bc1,Nc5,Nxc5,Bxc5,Bd2,c6,b4,Be7,c5,Kc7,a5,Kd7,Bc1,Ke6,Bb2,Kd5,g3,Bd8,Re1,Be7,e6,Rf6,g4,Rxe6,Rxe6,Kxe6,Bxd4,Kd5,Be5,Bh4,Rh3,Be1,Rxh7,Bxb4,Rxb7,Bxc5+,d4,Bxd4+,Bxd4,Kxd4,Kf2,Re4,Kf3,Re3+,Kf2,Re4,f5,gxf5,g5,Rg4', 'Rb4+,Ke5,Rxg4', 'https://lichess.org/training/QNwhj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qnX0z', 'Rapid', 'pueblodelviento', 1775, 'vin_strife', 1801, 'e4,c5,Bc4,Nc6,Nc3,e6,d3,Na5,Bb5,a6,Ba4,b5,Bb3,Nxb3,axb3,Nf6,Nxb5,Bb7,Nc3,Qc7,Nf3,Bd6,Qe2,O-O,e5,Bxf3,exd6,Bxe2,dxc7,Bg4,O-O,Rfc8,Bf4,Nh5,Bd6,Nf6,Rae1,Nd5,Nxd5,exd5,f3,Be6,c4,dxc4,bxc4,a5,Re5,Ra6,Bxc5,d6,Bxd6,Rxd6,Rxa5,Rxd3,Rc5,h6,b4,Rd7,Rc1,Rdxc7,Rxc7,Rxc7,c5,Bd7,Kf2,Bb5,Ke3,Kf8,Ra1,Rd7,Ra5,Rd3+,Ke4,Bc4,b5,Rb3,b6,Rb5,Rxb5,Bxb5,Kd5,Ke8,c6,Kd8,c7+,Kc8,Kc5,Ba6,Kd6,Bb7,g4,Bxf3,h3,Bd1', 'b7+,Kxb7,Kd7', 'https://lichess.org/training/qnX0z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qnXno', 'Rapid', 'walid-amer', 1747, 'HyperfocusedRobot', 1929, 'g3,Nf6,Bg2,g6,b3,Bg7,Bb2,d6,Nc3,O-O,Nf3,e5,e3,Ne8,Qe2,f5,h4,Nc6,h5,e4,Ng1,d5,hxg6,hxg6,Nh3,d4,Nd1,d3,cxd3,Nb4,Bxg7,Nxd3+,Kf1,Nxg7,Nf4,Qf6,Nc3,Ne5,Ncd5,Qf7,Rc1,c6,Nc3,Ne6,d4,Nxf4,gxf4,Nd3,Rd1,b6,f3,Nb4,fxe4', 'Ba6,Qxa6,Nxa6', 'https://lichess.org/training/qnXno');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qnyhd', 'Rapid', 'Alessandro-1983', 1614, 'rkkmmmkkr', 1645, 'e4,d5,e5,Nc6,f4,e6,Nf3,a5,Bb5,Bd7,d4,Bb4+,Bd2,Bxd2+,Qxd2,Nh6,h3,Nf5,Qf2,O-O,Nc3,f6,O-O-O,fxe5,fxe5,Nfxd4,Bxc6,Nxc6,g4,Nd4,Rxd4,c5,Rdd1,d4,Ne4,Bc6,Nxc5,Bxf3,Nxe6,Qd5,Nxf8,Rxf8,Rxd4', 'Bxh1,Rxd5,Rxf2', 'https://lichess.org/training/qnyhd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qo1aH', 'Rapid', 'Beageltje', 2243, 'Chopin2605', 2214, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,Nd4,O-O,Nxb5,Nxb5,d5,exd5,Bf5,d3,Nh6,c4,O-O,Ne5,e6,dxe6,Bxe6,Qe2,Re8,Be3,f6,Nf3,Nf5,Rfe1,a6,Nc3,Bxc4,Qd2,Nxe3,Rxe3,Bf7,Rae1,Rxe3,Qxe3,Qc7,Qe7,Qb6,Na4,Qc6,Nc3', 'Re8,Qxe8+,Bxe8', 'https://lichess.org/training/Qo1aH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QO1yS', 'Classical', 'Lev_Tolstoy123', 1656, 'Sibtat', 1657, 'd4,d5,Bf4,Nf6,e3,Bf5,c3,b6,Bd3,c5,Bxf5,e6,Bc2,c4,Nd2,b5,Ngf3,Be7,e4,O-O,O-O,b4,Ba4,a5,Re1,Nbd7,Qe2,Nb6,Bc6,Ra7,exd5,Bd6,Bxd6,Qxd6,Ne5,exd5,Ndf3,Re7,Nh4,Rc7,Nf5,Qe6,Qf3,Rxc6,Ng4,Ne4,Qh3,Qxf5', 'Nh6+,Rxh6,Qxf5', 'https://lichess.org/training/QO1yS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QO2Se', 'Rapid', 'Shura73', 1754, 'Avelan', 1790, 'd4,b6,Bf4,Bb7,e3,e6,Bd3,c5,c3,Nc6,Nd2,d5,Ngf3,Nf6,Ne5,c4,Bc2,Be7,Qe2,O-O,h4,h6,g4,Nh7,Ndf3,f6,Ng6,Re8,O-O-O,Kf7,g5,fxg5,hxg5,Bxg5,Nfe5+,Nxe5,Nxe5+,Kg8,Rdg1,Bxf4,exf4,Qf6,Kb1,Qxf4,Qh5,Ng5,Qg6,Rf8,Rxh6,Rf6,Qxg5', 'Qxg5,Rxg5,Rxh6', 'https://lichess.org/training/QO2Se');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qO4Md', 'Blitz', 'danielkuijper', 1894, 'kaspalesweb', 1832, 'e4,e5,Nf3,Nc6,c4,Nf6,Nc3,Bc5,a3,a5,Rb1,d6,Be2,Nd4,Nxd4,Bxd4,b4,axb4,axb4,Be6,O-O,Bxc3,dxc3,Nxe4,Qd3,Nf6,Bf3,e4,Bxe4,Nxe4,Qxe4,Rb8,f4,O-O,f5,Bd7,f6,Bc6,Qg4,g6,Qg5,Kh8,Qh6,Rg8,Rf4,Qf8', 'Qxh7+,Kxh7,Rh4+,Qh6,Rxh6#', 'https://lichess.org/training/qO4Md');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qo4Tm', 'Rapid', 'casomir', 2285, 'mikkabouzu', 2224, 'd4,c5,d5,Nf6,c4,b5,cxb5,a6,bxa6,Bxa6,Nc3,d6,Nf3,g6,e4,Bxf1,Kxf1,Bg7,g3,O-O,Kg2,Nbd7,Re1,Qa5,h3,Rfb8,Re2,Rb4,Qc2,Rab8,Rb1,Qa6,Bf4,Qa5,b3,c4,bxc4,Rxc4,Rxb8+,Nxb8,Qb3,Qxc3,Qxb8+,Rc8,Qb3,Qc5,Be3,Qa5,Bd4,Qa6,Re1,Ra8,Ra1,Nxe4,Bxg7,Kxg7,Nd4,Qa5,Nc6,Qd2,Qf3,Rxa2', 'Rxa2,Qxa2,Qxe4', 'https://lichess.org/training/Qo4Tm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qo5c7', 'Blitz', 'Miko_Novo', 1660, 'Aspy', 1653, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,d6,Qb3,b6,Bc4,Qd7,Nf3,a6,O-O,b5,Bd3,Nf6,Rd1,Qe6,Qc2,g6,Ng5,Qe7,Bd2,c5,Nd5,Nxd5,exd5,Kd8,Ba5+,Kd7,Re1,Qxg5,a3,Bg7,Qe2,Bd4,Bxb5+,axb5', 'Qxb5+,Nc6,Qxc6#', 'https://lichess.org/training/Qo5c7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qo5rU', 'Rapid', 'kaibbb73', 1928, 'ack002', 1921, 'e4,c5,d4,cxd4,c3,Nc6,cxd4,d5,e5,Qb6,Nf3,Bg4,Nc3,e6,Bb5,Bb4,Qa4,Bxc3+,bxc3,Ne7,Ba3,a6,Nd2', 'Qxb5,Qxb5,axb5', 'https://lichess.org/training/Qo5rU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qO6h2', 'Rapid', 'EL-AMINE', 1688, 'thincoltorion', 1671, 'd4,Nf6,c4,d6,Nf3,g6,Nc3,Bg7,e4,Bg4,Be2,Bxf3,Bxf3,e5,O-O,O-O,b4,Nc6,dxe5,dxe5,Nd5,Nxd5,exd5,Nxb4,a3,Na6,d6,e4,Bxe4,Bxa1,Bxb7,Rb8,Bxa6,Be5,dxc7,Qxc7,Re1,Bg7,a4,Rb6,Bb5,a6,Be3,Rd6,Qc1,axb5,Bf4,Qxc4,Bxd6,Qxc1,Rxc1,Rd8,Be7,Rb8,a5,Bf8,Bf6,b4,a6,Ra8,Ra1,Bg7,Bxg7,Kxg7,f3,Kf6,Kf2,Ke6,Ke3,Kd5,Kf4,f6,Ke3,Kc6,Kd3,Kb5,a7,Kb6,Kc4,Rxa7,Rxa7,Kxa7,Kxb4,Kb6,Kc4,Kc6,Kd4,Kd6,g4,Ke6,Ke4,f5+,gxf5+,gxf5+,Kf4,h6,h3,Kf6,h4,h5,Kg3', 'Ke5,Kf2,Kf4,Ke2,Kg3', 'https://lichess.org/training/qO6h2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qO9OA', 'Rapid', 'Mirdha', 1838, 'pollosaurio81', 1905, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nc6,Nf3,Nf6,Nxf6+,Qxf6,Be3,Bd7,c3,Be7,d5,exd5,Qxd5,O-O-O,Qg5,Qxg5,Bxg5,f6,Bf4,Bf5,Be2,g5,Bg3,Rhe8,O-O,Bc5,Bc4,h5,h3,h4,Bh2,Bd6,Rfd1,Bxh2+,Kxh2,Ne5,Nxe5,Rxe5,Re1,Rde8,Rxe5,Rxe5,g3,b5,g4,bxc4,gxf5,Rxf5,Kg2,Re5,Kf3,c6,Rd1,f5,Rd4,Rc5,Ke3,Kc7,f4,g4,hxg4,fxg4,f5,Rxf5,Rxg4,Rh5,Kf2,Kd6,Kg2,h3+,Kh2,Kd5,Rd4+,Kc5,Rd7,a5,Ra7,Kb6,Rd7,a4,a3,Rh6,Rd4,Kb5,Rd2,Rh4,Kg3,Rh7,Rh2,Kc5,Rxh3', 'Rxh3+,Kxh3,Kd5,Kg4,Ke4', 'https://lichess.org/training/qO9OA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QO9Y9', 'Rapid', 'remsparov', 1705, 'doubletrouble48', 1671, 'e4,e5,f4,d6,Nf3,Nc6,fxe5,dxe5,Bb5,Bd6,Bxc6+,bxc6,a3,Nf6,Nc3,O-O,O-O,h6,d4,exd4,Qxd4,Nd7,e5', 'Bc5,Qxc5,Nxc5', 'https://lichess.org/training/QO9Y9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOAva', 'Rapid', 'zivinice', 2094, 'zatvor', 2104, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,Nc6,Nc3,a6,a4,e6,Bg5,Be7,O-O,O-O,Qd2,Ne5,Nxe5,dxe5,f4,exf4,Qxf4,h6,Bxh6,gxh6,Qxh6,Nh7,Rf3,Bg5,Rg3,Kh8,Qh5,Qf6,h4,Qh6', 'Rxg5,Qxh5,Rxh5', 'https://lichess.org/training/QOAva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QoB5C', 'Rapid', 'Kebica', 1694, 'yyo', 1685, 'd4,d5,c4,Nf6,Nc3,b6,Nf3,Bb7,e3,Qd7,Be2,Nc6,O-O,h6,cxd5,Nxd5,Bd2,g5,Bc4,e6,Qb3,g4,Ne5,Nxe5,dxe5,O-O-O,Rfd1,Nxc3,Bxc3,Qc6,Rxd8+,Kxd8,Rd1+,Kc8,Bf1,h5,Rc1,Qe4,Qc2,Qxc2,Rxc2,h4,g3,Bc5,b4', 'hxg3,fxg3,Bxe3+', 'https://lichess.org/training/QoB5C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QoCdi', 'Blitz', 'Templarium', 2542, 'GM Obiwankanoebi', 2570, 'Nc3,d5,e4,e6,f4,dxe4,Nxe4,c5,Bc4,Nc6,d3,Nf6,Nxf6+,Qxf6,Nf3,Bd6,g3,b6,O-O,Bb7,c3,O-O,Ng5,Na5,Bb5,Rfd8,Qh5,Qg6,Qxg6,hxg6,Be3,Be7,Rad1,a6,Ba4,b5,Bc2,Rd7,Nf3,Nc6,Kf2,Rad8,Rd2,f6,Bb3,Kf7,Re1,Na5,Bc2,Bxf3,Kxf3,Nc4,dxc4,Rxd2,Bxd2,Rxd2,Bb3,Rxb2,cxb5,axb5,Bxe6+,Kf8,Re2,Rb1,Rd2,c4,Rd7,f5,Rb7,Bc5,Bxc4,Rb2,Rxb5', 'Rf2#', 'https://lichess.org/training/QoCdi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QocFY', 'Rapid', 'Mewingone', 2121, 'zolegl', 2117, 'd4,e6,Bf4,c5,Nc3,cxd4,Qxd4,Nf6,Bxb8,Rxb8,Qxa7,Qc7,O-O-O,Bc5,Nb5,Bxa7,Nxc7+,Kd8,Nb5,Bxf2,Nd6,Ke7,Nf3,Nd5,e4,Kxd6,Kb1,b5,exd5,exd5,Ng5,Kc5,Nxf7,Rf8,Ng5,h6,Nf3,d6,a3,b4,axb4+,Rxb4,Be2,Bf5,Bd3,Rfb8,b3,Bg4,Rdf1,Be3,h3,Bxf3,Rxf3,Bd4,Rhf1,Bc3,Bf5,d4,Be4,Ra4', 'Rf5+,Kb4,bxa4', 'https://lichess.org/training/QocFY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOckJ', 'Bullet', 'arverno', 1553, 'stqc', 1609, 'e4,c5,Nc3,d6,Nf3,Nc6,g3,Nf6,Bg2,e6,d3,Be7,O-O,O-O,b3,d5,e5,Nd7,Qe2,d4,Nd1,Qc7,c3,dxc3,Nxc3,Ndxe5,Nb5,Qb6,Nxe5,Nxe5,Qxe5,Qxb5,Bg5,Bxg5,Qxg5,Qxd3,Rad1,Qb5,Rd8,Bd7,Rxf8+,Rxf8,Rd1,b6,Rxd7,Qxd7,Be4,g6,h4,Rd8,h5,Qd1+,Kh2,Rd2,Qf4,Qe1,Kg2,Qe2,hxg6,hxg6,Bf3,Qe1,Be4,Qe2,Qb8+,Kg7,Qe5+,Kh6', 'Qh8+,Kg5,Qh4#', 'https://lichess.org/training/QOckJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QoCO0', 'Rapid', 'Namninos', 1748, 'Alexandr260762', 1759, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,d6,d5,Nce7,Be2,Nf6,Nc3,c6,O-O,cxd5,Nxd5,Nexd5,exd5,Be7,c4,O-O,h3,Ne4,Bd3,Bf5,Re1,Nxf2,Kxf2,e4,Bxe4,Bh4+,g3,Bxe4,Rxe4,Bf6,Nh4,Qb6+,Be3', 'Qxb2+,Kf3,Qxa1,Qxa1,Bxa1', 'https://lichess.org/training/QoCO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qocqi', 'Rapid', 'vick2018', 1615, 'IgorPK', 1619, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Nc6,Ne5,Qc7,Qe2,Be6,d3,Nf6,Bf4,Bd6,O-O,O-O,Nxc6,bxc6,Bxd6,Qxd6,Ba4,Rfe8,Qd2,d4,Na3,Rab8,b3,Nd5,Nc4,Qc7,Rfe1,Nc3,Ne5,Bd5,Qf4,f6,Ng6,Qxf4,Nxf4,Rxe1+,Rxe1,Nxa2,Nxd5,cxd5,Bc6,Nc3,Re7,Rc8,Bd7,Rc7', 'Be6+,Kf8,Rxc7', 'https://lichess.org/training/qocqi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qODMn', 'Rapid', 'PedroRXY', 1796, 'Autzenfan', 1726, 'c4,c5,d3,Nc6,e4,e6,Nf3,Be7,Nc3,d6,Bd2,Nf6,Be2,O-O,O-O,a6,h3,b5,cxb5,axb5,Nxb5,d5,exd5,exd5,Nc3,d4,Ne4', 'Nxe4,dxe4,d3,Bxd3,Qxd3', 'https://lichess.org/training/qODMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOeMC', 'Rapid', 'herrinq', 1979, 'BigotonGordo', 1998, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qh5,Be2,Bg4,O-O,O-O-O,h3,Bxf3,Bxf3,Qg6,d3,f5,Bf4,e5,Bh2,Nf6,Qe2,Nd4,Qd1,Nxf3+,Qxf3,e4,Qf4,Bd6,Qh4,Bxh2+,Kxh2,exd3,cxd3,Rxd3,Rad1,Rxd1,Rxd1,Re8,Nd5,Nxd5,Rxd5,Qe6,Rd1,h6,a3,g5,Qd4,Qe5+,Qxe5,Rxe5,Kg3,Re2,b4,Ra2,Rd3,b6,f4,gxf4+,Kxf4,Rxg2,Kxf5,Rg5+,Kf4,Kb7,h4,Rh5,Kg4,Re5,h5,a5,Rd4,axb4,axb4,c5,bxc5,bxc5,Rd6,c4,Rxh6,c3,Rh7+,Kb6,Rh8', 'c2,Rc8,Rc5,Rxc5,Kxc5,h6,c1=Q', 'https://lichess.org/training/QOeMC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOgYX', 'Rapid', 'AyvaWawa', 1969, 'udoyd100s0', 1884, 'e4,e6,d4,d5,f3,dxe4,fxe4,Qh4+,g3,Qxe4+,Qe2,Qxh1,Nf3,b6,Bf4,Ba6,c4,Bb4+,Nbd2,Bxd2+,Kxd2,Nf6,Rc1,Bb7', 'Bg2,Qxc1+,Kxc1', 'https://lichess.org/training/QOgYX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qoHeT', 'Bullet', 'samtng', 1605, 'Longshanks', 1533, 'Nf3,Nc6,g3,e5,Bg2,e4,Nh4,d5,f4,exf3,Nxf3,Bg4,d3,Qd7,Nc3,O-O-O,Bf4,Nf6,Qd2,h6,O-O-O,g5,Be5,Be7,Bxf6,Bxf6,d4,Rhe8,h3,Bh5,g4,Bg6,e3,Bg7,Ne5,Nxe5,dxe5,Bxe5,Nxd5,Qa4', 'Ne7+,Kb8,Qxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/qoHeT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOHty', 'Blitz', 'Crisydra', 1503, 'adidasty', 1503, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,Bg5,Be7,e3,Nbd7,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,Qc2,h6,Bh4,Nb6,O-O-O,Nbd5,Kb1,Nxc3+,Qxc3,b4,Qb3,Nd5,Bxe7,Qxe7,Ne5,a5,a3,Ba6,Nxc6,Qb7,Nxa5,Qb6,Nc4,Bxc4,Bxc4,O-O,Bxd5,exd5,Qxb4,Qg6+,Ka2,Rfb8,Qc5,Qe4,f3,Qxe3,Qxd5,Qe2,Rb1', 'Rxa3+,Kxa3,Qa6+,Qa5,Qxa5#', 'https://lichess.org/training/QOHty');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qoII4', 'Rapid', 'tertle', 1604, 'eduandrew', 1627, 'd4,d5,c4,e6,Nf3,c5,Bg5,Be7,Bxe7,Nxe7,dxc5,Qa5+,Nc3,Qxc5,cxd5,exd5,e3,Bg4,Qc1,O-O,Be2,Nd7,O-O,Rac8,h3,Bh5,Qc2,Bg6,Bd3,f5,Ng5,Rf6,Rac1,h6,Nf3,Rfc6,Rfd1,b5,Nd4,Ne5,Nxc6,Nxd3,Nxe7+,Qxe7,Qxd3,f4,Qxg6,fxe3,Nxd5,exf2+,Kxf2,Qh4+,Qg3', 'Rf8+,Kg1,Qxg3', 'https://lichess.org/training/qoII4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOInl', 'Rapid', 'REYEEN', 1771, 'SimoneBabbu', 1762, 'e4,c5,Nf3,d6,d4,Nc6,Bb5,Bd7,dxc5,Qa5+,Nc3,Nb4,Bxd7+,Kxd7,cxd6,exd6,O-O,Re8,Ng5,h6,Nxf7,Rh7,Qg4+,Re6,Rd1,Nf6,Qg6,Nxc2,Qxh7,Nxh7,e5,Rxe5,Nxe5+,Qxe5,Rb1,b5,Be3,Nxe3,fxe3,Qxe3+,Kh1,Nf6,Re1,Qc5,Rbc1,Qb4,b3,g5,a4,Qxb3,Nxb5,Qxa4,Rc7+,Kd8,Rf7,Qxb5,Rxf8+,Kc7,Rxf6,h5,Rf7+,Kb6,Rf8,Qa5,Rff1,Kc7,Rf7+,Kd8,Ref1,a6,Rf8+,Kc7,R1f7+,Kc6,Rc8+,Kd5', 'Rf5+,Ke4,Rxa5', 'https://lichess.org/training/QOInl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qOixa', 'Rapid', 'milchvo', 1832, 'Zakanembo', 1705, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,Nf3,Nxe4,Qe2,d5,d3,Nf6,Bg5,Be6,Nc3,Nbd7,Nd4,O-O-O,Nxe6,fxe6,O-O-O,Qf7,a3,Bc5,f4,h6,d4,Bd6,Bxf6,Bxf4+,Kb1,Nxf6,Qf3,Bd6,Bd3,Rdf8,Qe2,Qd7,Rhf1,g5,Rde1,Ne8,Rxf8,Rxf8,Qxe6,Qxe6,Rxe6,Nf6,Bf5,Kd8,h3,h5,g4,hxg4,hxg4,Be7,Re5,c6,Ka2,Nd7,Re6,Rf6,Kb3,Rxe6,Bxe6,Nf8,Bf5,Bf6,Ne2,Ke7,Kb4,Kd6,Ka5,c5,dxc5+,Kxc5,b3', 'Bd8+,Ka4,b5#', 'https://lichess.org/training/qOixa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOjJj', 'Rapid', 'alexnl22', 1630, 'Dominant25', 1634, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,e6,Bc4,Nf6,Bg5,Nbd7,Nf3,Be7,Bxf6,Nxf6,Nxf6+,Bxf6,Ne5,O-O,O-O,b5,Nxc6,Qc7,Bxb5,Bb7,d5,exd5,Qxd5,Rfd8,Qc5,a6,Ba4,Rd6,Ne7+,Qxe7,Rfe1,Qd8', 'Re8+,Qxe8,Bxe8', 'https://lichess.org/training/QOjJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qoJL4', 'Rapid', 'phattemer', 1622, 'paolored', 1690, 'e4,c5,Nc3,d6,Bc4,Nc6,Nf3,Nf6,O-O,Bg4,h3,Bh5,Re1,Ne5,Bb5+,Nfd7,Bxd7+,Qxd7,g4,Bxg4', 'Nxe5,Bxd1,Nxd7,Bxc2,Nxf8', 'https://lichess.org/training/qoJL4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qoK4u', 'Blitz', 'leroquentin', 2250, 'matias1625', 1740, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,c4,a4,a5,f4,Ne7,Nf3,Nbc6,Ba3,O-O,h4,f6,h5,h6,g4,g5,Qd2,Rf7,fxg5,fxg5,Bg2,Qf8,O-O,Qg7,Nh2,Bd7,Rxf7,Qxf7,Rf1,Qg7,Rf6,Rf8,Qf2,Rxf6,exf6,Qf7,fxe7,Qxf2+,Kxf2,Kf7,Bf3,Nxe7,Bxe7,Kxe7,Bg2,Bxa4,Nf3,Bxc2,Ne5', 'a4,Ke3,a3,Kd2,a2', 'https://lichess.org/training/qoK4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qOkbO', 'Rapid', 'goran5rovic', 1990, 'MiraBelleLily', 1945, 'e4,e6,g3,d5,Bg2,dxe4,Bxe4,Nf6,Bg2,Be7,d3,Nbd7,Nc3,c6,Bf4,O-O,Nge2,Re8,Qd2,Qb6,Na4,Qb5,Nec3,Bb4,Nxb5,Bxd2+,Kxd2,cxb5,Nc3,e5,Be3,a6,a4,b4,Ne2,a5,c3,Ng4,cxb4,axb4,a5,Ndf6,Ra4,b3,Rb4,Be6,Rxb7,Rxa5,Bb6,Bd5,Bxa5', 'Bxg2,Rxb3,Bxh1', 'https://lichess.org/training/qOkbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qoKdR', 'Rapid', 'gulrot', 1754, 'vinko2202', 2006, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,f5,exf5,Bxf5,d4,a6,Bxc6+,bxc6,dxe5,Bg4,exd6,cxd6,Re1+,Be7,Bg5,Nf6,Nbd2,O-O,c4,h6,Be3,Nh7,Qc2,Bf6,Bxh6,Bxf3,Nxf3,gxh6,Qg6+,Bg7,Re4,Rf6,Qg3,Qd7,Rae1,Raf8', 'Re7,Qxe7,Rxe7', 'https://lichess.org/training/qoKdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qokMO', 'Blitz', 'BrokenVessel', 1985, 'donchucho', 2001, 'e4,c6,d4,d5,Nd2,dxe4,f3,exf3,Ngxf3,Bg4,c3,Nf6,Bd3,e6,O-O,Nbd7,Qe1,Bxf3,Nxf3,Qb6,Kh1,h5,Ne5,Nxe5,dxe5,Ng4,h3,Bc5,Bc2,O-O-O,Rxf7,Rhf8,Rxf8,Rxf8,b4,Bf2,Qe4,Bg3,Be3,Nxe3,Bb3,Nd5,Qg6,Qf2,Rg1,Nf4,Qxg7,Nxh3,Bxe6+,Kb8,Bxh3,Rd8,e6', 'Qxg1+,Kxg1,Rd1#', 'https://lichess.org/training/qokMO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QoKxC', 'Rapid', 'ILA1436', 2167, 'OJJ', 2199, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bc4,Ngf6,Nxf6+,Nxf6,Nf3,Bg4,Bxf7+,Kxf7,Ne5+,Kg8,Nxg4,Qd5,Nxf6+,exf6,O-O,Bd6,Be3,Kf7,b3,Rhe8,c4,Qf5,Qb1,Qh5,g3,Qh3,Qc2,f5,c5,Bc7,Qc4+,Kf8,Qe2,Re6,Qf3,f4,Bxf4,Rf6,Qg2,Qxg2+,Kxg2,Bxf4,gxf4,Rxf4,Rad1,Rd8,Rd2,Rfxd4,Rxd4,Rxd4,Rc1,Rd2,a4,a5,Rc3,Kf7,Kg3,Rd5,f4,g6,h4,h6,Kg4,Kf6,Kf3,Kf5,Ke3,h5,Rc1,Rd7,Rg1,Re7+,Kf3,Rd7,Rg5+,Kf6,Ke4,Re7+,Re5', 'Re6,Rxe6+,Kxe6', 'https://lichess.org/training/QoKxC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QolN6', 'Rapid', 'DSONAR', 1675, 'DMendonca', 1757, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,Nf6,Bd3,O-O,O-O,b6,Nc3,Bb7,Re1,d6,Bc2,Nc6,d5,Nb4,Bb3,Rc8,a3,Na6,Nd4,Nc5,Bc2,Qd7,b4,Na6,Ncb5,Ba8,Bd3,Ng4,Nxd6,exd6,Bxa6,Rc7,Rb1,Bb7,Bb5,Qc8,Nc6,Bxc6,Bxc6,Ne5,b5,a6,a4,f5,exf5,Rxf5,Be3,Nc4,Bd4,Bxd4,Re8+,Qxe8,Bxe8,Bg7,Bc6,a5,Qg4,Rcf7,Qxc4,Rxf2,Rf1', 'Rxf1+,Qxf1,Bd4+', 'https://lichess.org/training/QolN6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QoNFN', 'Rapid', 'aleks0722', 1861, 'rosexpert', 1751, 'e4,g6,f4,Bg7,Nf3,Nc6,c3,d6,d4,Bg4,e5,dxe5,fxe5,e6,Be2,Nge7,O-O,O-O,Ng5,Bxe2,Qxe2,Nf5,Ne4,a5,Bf4,a4,Nbd2,Qd5,a3,b5,Rf3,Nfxd4,cxd4,Nxd4,Qf2,Nxf3+,Nxf3,Qxe4,Ng5,h6,Nh3,Qf5,Rf1,Bxe5,Qh4,Bxf4,Rxf4,Qc5+,Rf2,h5,Qf6,Rfd8,Qxf7+,Kh8,Qf6+,Kh7', 'Ng5+,Qxg5,Qxg5', 'https://lichess.org/training/QoNFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qOOlk', 'Classical', 'abdo5820', 1667, 'halfmanhalfknight', 2026, 'e4,d6,Nf3,Nd7,Bc4,h6,d4,c6,Nc3,Qc7,Be3,e5,d5,Be7,Qd2,a5,O-O,Nf8,Nh4,Bxh4,f4,exf4,Bxf4,Bg5,Bxg5,hxg5,Qxg5,Nf6', 'Qxg7,Rh7,Qxf6', 'https://lichess.org/training/qOOlk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOpeS', 'Classical', 'AliTaimoor', 1671, 'aminelbarkouky', 1676, 'e4,e5,Nf3,d6,Nc3,Bg4,Be2,Bxf3,Bxf3,Be7,d4,exd4,Qxd4,Nc6,Qxg7,Bf6,Qg3,Nge7,Bh6,Rg8,Qf4,Be5,Qd2,Rg6,O-O,Qd7,Bh5,Rg8,Bf4,Bf6,Rad1,O-O-O,h3', 'Qxh3,Bg3,Qxh5', 'https://lichess.org/training/QOpeS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOqtw', 'Rapid', 'Rndrps', 1995, 'Massaggro', 2299, 'e4,Nf6,e5,Nd5,c4,Nb6,a4,d6,a5,N6d7,e6,fxe6,d4,e5,Bd3,g6,Be3,exd4,Bxd4,e5,Bc3,Bg7,h4,Nc5,h5,Nxd3+,Qxd3,Bf5,Qg3,Qe7,Ne2,Nc6,hxg6,Bxg6,Nd2,O-O-O,O-O-O,a6,Nb3,Qe6,f3,Qxc4,Qg4+,Qxg4,fxg4,d5,Nc5,Rhe8,Nf4,d4,Nfe6,dxc3,Nxg7,cxb2+,Kxb2,Rf8,Nf5,Rxd1,Rxd1,Nxa5', 'Ne7+,Kb8,Nd7+,Ka7,Nxf8', 'https://lichess.org/training/QOqtw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QORTa', 'Classical', 'Rakitic4', 1813, 'khalafzadehali1341', 1845, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,a6,Nf3,d6,Bc4,e6,O-O,Nc6,Qe2,Nf6,Rd1,Qc7,Bg5,Be7,Rac1,O-O,Bb3,h6,Bh4,Nh7,Bxe7,Qxe7,Qd2,Rd8,Na4,Qc7,Nc3,Nf6,Nd5,exd5,exd5,Nxd5,Bxd5,Be6,Be4,Rac8,Nd4,Bd7,Bb1,Qb6,Nxc6,Bxc6,Qd3,g6,h4,Qb5,Qg3,Qe5,Qd3,Bb5,Rxc8,Bxd3', 'Rxd8+,Kg7,Bxd3', 'https://lichess.org/training/QORTa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOs9t', 'Rapid', 'tpsy', 1741, 'Pattstattmatt', 1799, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Be6,Bxe6,fxe6,b3,Be7,Bb2,O-O,O-O,Nd7,Nb5', 'Bf6,Qc4,Bxb2', 'https://lichess.org/training/QOs9t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qOSsB', 'Blitz', 'NM username20', 2420, 'happywarcraft', 2604, 'd4,d6,Nf3,g6,g3,Bg7,Bg2,b6,O-O,Bb7,c4,Nf6,Nc3,Ne4,Qc2,Nxc3,Qxc3,Nd7,Rd1,e6,Bg5,Nf6,Qe3,h6,Bxf6,Qxf6,Rac1,O-O,b3,a5,c5,bxc5,dxc5,d5,c6,Ba6,Rc5,a4,b4,a3,b5,Bc8,Nd4,Ra4,Nb3,Rd8,Qc1,Qe5,e4,Qb2,exd5,exd5,Rcxd5,Rxd5,Rxd5,Qxc1+,Nxc1,Be6,Rd8+,Kh7,Bf1,Rb4,Rd3,Rb1,Nb3,Bh3,Nd2,Rd1,g4', 'Bxf1,Nxf1,Rxd3', 'https://lichess.org/training/qOSsB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qoswo', 'Classical', 'FemiYomi', 1785, 'Kliper', 1808, 'Nf3,c5,d4,cxd4,Nxd4,e5,Nf3,Nc6,c4,d6,Nc3,Nf6,g3,g6,Bg2,Bg7,e4,O-O,Be3,a6,Nd5,Nxe4,Bb6,Qd7,Nxe5,Qf5', 'Nxc6,bxc6,Ne7+', 'https://lichess.org/training/Qoswo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QoTXc', 'Classical', 'arunkuchik', 1606, 'Fetullayev-Yusif', 1771, 'e4,e5,Bc4,Nc6,d3,d6,a3,a6,h3,Nf6,Nf3,Be7,Nc3,O-O,Nd5,Nxd5,Bxd5,Be6,Ba2,Bxa2,Rxa2,h6,Ra1,f5,exf5,Rxf5,Nh2,Qf8,O-O,Bg5,Ng4,h5,Nh2,Bxc1,Rxc1,Qf7,Nf3,g5,c3,g4,hxg4,hxg4,Nh4,Rf6,Qxg4+,Kf8,b4,Ke7,g3,Rg8,Qe2,Qh7,Kh2,Rh6,Qe4,Qxe4,dxe4,Rg4,f3,Rg8,Rf2,Rf8,Rg1,Nd8,Rgg2,Ne6,Kg1,Ng7,Rh2,Rfh8,f4,exf4,Rxf4,Ke6,Rg4,Ne8,Kg2,Nf6,Rf4,Rg8,Nf5,Rxh2+,Kxh2,Ke5,Ne7,Rh8+,Kg2,Rh6,Nf5,Rh7,Kf3,Rh1,Ne3,Rc1,Rf5+,Ke6,Kf4,Rxc3', 'Rxf6+,Kxf6,Nd5+,Kf7,Nxc3', 'https://lichess.org/training/QoTXc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOUH3', 'Rapid', 'rajaratre', 1761, 'vovcke_markovcke', 1760, 'e4,c5,Nf3,d6,Bc4,Nc6,c3,g6,d4,cxd4,cxd4,Bg7,Nc3,Qb6,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,O-O,Bg7,Nd5,Qd8,Bf4,e5,Re1,Ne7,Bxe5,Bxe5,Rxe5,Be6,Nf6+,Kf8,Rxe6,fxe6,Qg4,Nf5,Bxe6,Qxf6,Qb4+,Qe7,Qe4,Re8,Re1,Qd6,g4,Ng7', 'Qf3+,Nf5,gxf5', 'https://lichess.org/training/QOUH3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QoUOS', 'Rapid', 'thomas94033', 1910, 'ziko76', 2003, 'e4,Nc6,Nf3,e5,Bc4,f5,Ng5,Qxg5,O-O,f4,d4,exd4,c3,Bc5,Qf3,Bd6,g3,Ne5,Qe2,Nxc4,Qxc4,Nf6,cxd4,Qh5,e5,Ng4,h4,fxg3,fxg3,Be7,Nc3,Bxh4,gxh4,Qxh4,Qf7+,Kd8,Bf4,g5,Nd5,Re8,Nf6,Rh8,Nd5,Re8,Nf6,Rh8,Nxg4,Qxg4+,Kh1,gxf4', 'Qf6+,Ke8,Qxh8+', 'https://lichess.org/training/QoUOS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOVll', 'Blitz', 'CM LARMCHESS', 2160, 'mgroison', 2180, 'e4,c6,d4,d5,Nd2,g6,Ngf3,Bg4,Bd3,e6,h3,Bxf3,Nxf3,Ne7,c3,Bg7,Qe2,Nd7,O-O,O-O,Re1,dxe4,Bxe4,Qb6,Rb1,Nf6,Bc2,c5,Bg5,Nc6,dxc5,Qxc5,Bxf6,Bxf6,Qe3,Qxe3,Rxe3,Rfd8,Rd1,Rxd1+,Bxd1,Rd8,Bc2,Kf8,Rd3,Rxd3,Bxd3,Ke7,Be4,Kd6,Bxc6,Kxc6,Kf1,Kd5,Ke2,e5,Nd2,Bg5,Nf3,Be7,Ne1,f5,Kd3,e4+,Kc2,f4,f3,Bh4,fxe4+,Kxe4,Nf3,Ke3,Nxh4,Kf2,Kd3,Kg3,Nf3,Kxg2,Ke4,Kxh3,Kxf4,h6,Ne5,g5+,Kf3,h5,Kf2,g4,c4,Kh2,c5,g3+,Ke2,g2,Nf3+,Kg3,b4', 'h4,c6,bxc6', 'https://lichess.org/training/QOVll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QOvqf', 'Blitz', 'Beltran_Escriva', 2117, 'WFM Marcia2911', 2142, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Be7,Be2,O-O,O-O,cxd4,Nxd4,Bc5,a4,Qb6,a5,Nxa5,Na4,Qc7,Nxc5,Qxc5,Nf5,Qc7,Nd6,Nc6,g4,f6,c4,fxe5,fxe5,Ncxe5,Nb5,Rxf1+,Bxf1,Qd8,c5,a6,Nd6,Nf6,g5,Ne8,Bf4,Ng6,Qh5,Nxf4', 'Qf7+,Kh8,Qf8#', 'https://lichess.org/training/QOvqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qOyAN', 'Blitz', 'MultiArmedBandit', 1790, 'Hpawn8', 1763, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,Nbd7,Be3,e6,Qd2,Be7,O-O-O,O-O,Kb1,b5,g4,b4,Nce2,a5,g5,Ne8,h4,Ne5,Nc1,Ba6,b3,a4,f4,axb3,cxb3,Ng4,h5,Bxf1,Rdxf1,Qa5,Rfg1,Nxe3,Qxe3,Rc8,g6,h6,gxf7+,Rxf7,f5,e5,Ne6,Nf6,Qxh6,Bf8,Rg6,Nxe4,Rhg1,Nc3+,Kb2,Qa3+,Ka1,Nxa2,Rxg7+,Bxg7', 'Rxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/qOyAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QoyuH', 'Blitz', 'Tanmoy1234', 1902, 'TitanLascar', 1900, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,d6,Nxc6,bxc6,O-O,Nf6,Nc3,O-O,Kh1,Bb7,Qe2,d5,exd5,cxd5,Bd3,c5,b3,d4,Ne4,Re8,Nxf6+,Bxf6,Qh5,h6,Qxc5,Re5,Qc4,Rc8,Qb4,Bc6,Bb2,Rg5,f3,Be7,Qd2,Rh5,Rae1,Bg5,Qe2,Be3,Bc1', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/QoyuH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QozYs', 'Rapid', 'BurningKnight', 2041, 'windofchaos', 1935, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Be7,O-O,Bg4,Bxc6+,Kf8,Bxa8,Bxf3,Bxf3,Nd5,Bxd5,Qxd5,d3,Nc6,Nc3,Qd8,Nf3,Nd4,Nxd4,exd4,Ne2,Qb6,a4,Bf6,b3,Qc6,Ra2,h5,Bb2,Qxc2', 'Ba3+,Kg8,Rxc2', 'https://lichess.org/training/QozYs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qp2iJ', 'Blitz', 'Mbarend', 1628, 'GONZALO23AGUILAR', 1631, 'g3,d5,Bg2,e6,Nf3,g6,O-O,Bg7,d4,Ne7,c3,O-O,Re1,b6,e4,dxe4,Rxe4,Bb7,Re2,Nd7,Bg5,Rb8,b3,Qe8,Nbd2,c5,dxc5,Nxc5,b4,Nd7,Qb3,a5,Rae1,axb4,cxb4,Bd5,Qe3,b5,a3,Nb6,Nd4,Qd7,Bxd5,Qxd5,Bxe7,Rfe8,Bc5,Nc4,Nxc4,Qxc4,Rc1,Qd5,Rd2,Qh5,Nc6,Rb7,Qe4,Bh6,f4,f5,Qg2,Bg7,Nd8,Rb8,Rcd1,Ra8,Nxe6,Rxa3,Nxg7,Kxg7,Rd7+,Kh6,Rb7,Qxd1+,Qf1,Re1', 'Bf8+,Kh5,Rxh7+,Kg4,Rh4#', 'https://lichess.org/training/qp2iJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qp2Lp', 'Rapid', 'TourDeCaleche', 1895, 'sunsettosunrise', 2081, 'e4,c5,Nf3,d6,c3,Nf6,h3,Nc6,Bd3,e6,Bc2,Be7,d4,cxd4,cxd4,O-O,Nc3,b6,O-O,Bb7,a3,Rc8,Be3,e5,d5,Na5,Re1,Nd7,Nd2,Bg5,Qg4,Bxe3,Rxe3,Nc4,Nxc4,Rxc4,Rg3,g6,f4,exf4,Qxf4,Ne5,Bb3,Rc8,Rf1,Qe7,Qf6,Qxf6,Rxf6,Ba6,Rxd6,Bc4,Bxc4,Nxc4,Rd7,a6,Ra7,Ra8,Rxa8,Rxa8,Na4,Kf8,b3,Nd6,Nxb6,Rd8,Re3,f6,Kf2,Ke7,Kf3,Rb8,Nc4,Nxc4,bxc4,Kd6,Kf4,Rb1,g4,g5+,Kg3,Rc1,Rf3,Ke5,Rf5+,Kxe4,Rxf6,Rc3+,Kg2,Rxc4,Rxa6,Kxd5,Ra5+,Ke4,Rxg5,Rc2+,Kf1,Rh2,Rh5,Kf3,Ke1,Ke3,Rxh7', 'Rh1#', 'https://lichess.org/training/qp2Lp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qP3A4', 'Classical', 'uurpiser', 1693, 'Axel_Tuyub', 1755, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,a6,Ba4,Bf5,c4,dxc4,d5,b5,O-O,Nb8,Bc2,Bxc2,Qxc2,Nf6,d6,e6,Bf4,Bxd6,Rd1,Nd5,Bxd6,Qxd6,Nc3,O-O,Ng5,g6,Nce4,Qe7,Nf3,Nc6,Re1,Ndb4,Qc3,Nd3', 'Nf6+,Kh8,Nd5+', 'https://lichess.org/training/qP3A4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qP58v', 'Blitz', 'duendemaldito34', 1761, 'MaxxLange', 1775, 'f4,e5,fxe5,d6,exd6,Bxd6,Nf3,Bg4,e4,Bxf3,Qxf3,Nf6,Bc4,Nc6,c3,Ne5,Qe2,Nxc4,Qxc4,O-O,O-O,c6,d3,Ng4,h3,Qh4,Bf4,Bxf4,Rxf4,Qe1+,Rf1,Qe3+,Kh1,Nf2+,Kh2,Nxd3,Na3,Ne5,Qb3,Rad8,Nc4,Qxe4,Nxe5,Qxe5+,Kh1,Rd2,Rae1,Qg5', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/qP58v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QP6EF', 'Blitz', 'SacronBlitzPH', 1661, 'Mizuhara_Chizuru', 1932, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,Ngf6,O-O-O,Be7,Kb1,a5,Rhe1,O-O,Ne2,Bb4,c3,Be7,Nh2,a4,g4,Nd5,Bd2,c5,f4,cxd4,Nxd4,Nc5,Qf3,Qb6,g5,hxg5,fxg5,Bd6,Ng4,a3,b3,Ra4,h6,Rxd4,cxd4,Na4,g6', 'Qxd4,Nf6+,Nxf6,Bc1,Nc3+', 'https://lichess.org/training/QP6EF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QP7uv', 'Rapid', 'DystopianOverture', 1766, 'RippytheGator', 1634, 'c4,c5,g3,Nc6,Bg2,Nf6,Nc3,e6,e3,Be7,Nge2,d5,cxd5,exd5,O-O,O-O,d4,cxd4,Nxd4,Bb4,a3,Bxc3,bxc3,Ne4,Bb2,Qb6,Rb1,Qc7,Nxc6,bxc6,Qd4,Nf6,c4,Ba6,Rfc1,Bxc4,e4,dxe4,Rxc4,Rad8,Qc3,Rd3,Rxc6', 'Rxc3,Rxc7,Rxc7,Bxf6,gxf6', 'https://lichess.org/training/QP7uv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qpagx', 'Rapid', 'zzvecka', 1797, 'destronador', 1804, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,Qf6,d5,Nd4,Nxd4,exd4,c3,Bc5,O-O,d6,b4,Bb6,Bb2,dxc3,Bxc3,Qg6,e5,Bg4,Qa4+,Bd7,Bb5,O-O-O,Bxd7+,Rxd7,exd6,Qxd6,Rd1,Rh7,Na3,a6,Nc4,Bxf2+,Kxf2,Qf4+,Kg1,Qxc4,Rac1,Qb5,Qc2,g6,d6,c6,a4,Qf5,Qxf5,gxf5,b5,axb5,axb5,c5,Bb4,b6,Bxc5,bxc5,Rxc5+,Kb7,Rxf5,h5,Re5,Nf6,Re7,h4,Rde1,h3,gxh3,Kb6,Rxd7,Nxd7,Re7,Nc5,d7,Rh8', 'Re8,Nxd7,Rxh8', 'https://lichess.org/training/qpagx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QpBBX', 'Rapid', 'Philroche', 1872, 'mumps', 1823, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,a6,Bc4,b5,Bd3,Bb7,Be3,e6,O-O,Be7,a3,O-O,Qe2,Nbd7,Rad1,Ng4,h3', 'Bxf3,hxg4,Bxe2', 'https://lichess.org/training/QpBBX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QPbHW', 'Rapid', 'aslankatleden', 1653, 'hanisaafan2017', 1657, 'e4,e5,Nf3,Nc6,Nc3,d6,d4,Bd7,d5,Nce7,Be3,Ng6,Be2,Nf6,h3,c6,dxc6,Bxc6,Bd3,d5,exd5,Nxd5,Nxd5,Bxd5,Bxg6,hxg6,Nxe5,Bxg2,Qxd8+,Rxd8,Rh2,Bxh3,Nd3,Bd6,Nf4,g5', 'Rxh3,Rxh3,Nxh3', 'https://lichess.org/training/QPbHW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qpcAu', 'Blitz', 'IM purzelbaumer', 2453, 'ShanthamGrarks', 2074, 'd4,e6,e4,f5,exf5,exf5,Nf3,Nf6,Bd3,d5,O-O,Be7,Re1,O-O,Ne5,Nc6,c3,Nxe5,Rxe5,Bd6,Re1,Bxh2+', 'Kxh2,Ng4+,Kg1', 'https://lichess.org/training/qpcAu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qPCN7', 'Rapid', 'likan-monstr', 1705, 'Ferdidurke', 1737, 'Nf3,b6,d4,Bb7,b3,e6,e3,Nf6,Be2,Be7,O-O,O-O,Bb2,c5,c4,cxd4,exd4,Ne4,Nbd2,Nxd2,Qxd2,a5,a3,a4,b4,d5,cxd5,Bxd5,Rfc1,Nd7,Bc4,Bxf3,gxf3,Bg5,f4,Bh6,Re1,Rc8,Bb5,Nb8,Bxa4,Qh4,Re4,f5,Rxe6,Bxf4,Qe2,Qxh2+,Kf1,Qh3+,Ke1,Qh1+,Qf1,Qd5,Qd3,Qxe6+,Kf1,Rf6', 'Bb3,Qxb3,Qxb3+', 'https://lichess.org/training/qPCN7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qpde6', 'Blitz', 'Elizabethan', 1727, 'alimamzy', 1732, 'e4,e6,Nf3,c5,Bc4,Nc6,d4,cxd4,Nxd4,a6,c3,Bc5,Nxc6,bxc6,O-O,Ne7,Kh1,O-O,f4,d5,exd5,cxd5,Bb3,Bb7,Qd3,Ng6,f5,Ne5,Qe2,Nc4,Bc2,Ba7,b3,Nd6,fxe6,fxe6,Re1,Ne4,Bxe4,dxe4,Be3,Bb8,Nd2,Qh4,h3,Qg3,Nf1', 'Rxf1+,Qxf1,Qh2#', 'https://lichess.org/training/Qpde6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qPDjn', 'Rapid', 'alsucipto29', 1968, 'Abhay2013', 1943, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,g3,Nf6,Bg2,g6,d4,Bg7,e4,O-O,Nge2,c6,O-O,Nbd7,Qc2,Nb6,b3,Bg4,f3,Bd7,Be3,e6,Rad1,a6,Qc1,Re8,Bg5,Qc7,Bh6,e5,Bxg7,Kxg7,d5,cxd5,exd5,Rac8,d6,Qc5+,Kh1,Re6,Ne4,Nxe4,fxe4,Rxd6', 'Qxc5,Rxc5,Rxd6', 'https://lichess.org/training/qPDjn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QPEkU', 'Rapid', 'denci', 1767, 'SamDooley', 1898, 'e4,c5,Nf3,Nc6,c3,Qc7,d4,cxd4,cxd4,e6,Nc3,Bb4,a3,Qa5,Bd2,Bxc3,Bxc3,Qb6,d5,exd5,Bxg7,dxe4,Nd4,Qxb2,Bxh8,Qc3+,Ke2,d5,Rc1,Bg4+,f3,exf3+,gxf3,Nxd4+,Bxd4,Qxf3+,Ke1', 'Qe4+,Be2,Qxh1+', 'https://lichess.org/training/QPEkU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qpEtA', 'Blitz', 'FM Obmeister', 2443, 'kartvillerberserk', 2396, 'd4,d5,c4,e6,Nf3,Nf6,g3,Bb4+,Bd2,Be7,Bg2,O-O,O-O,dxc4,Nc3,a6,e3,c5,Qe2,Nc6,dxc5,Bxc5,Qxc4,Qe7,e4,b5,Qe2,Bb7,e5,Nd7,Ne4,Ndxe5,Nxe5,Nxe5,Nxc5,Bxg2,Qxe5,Bxf1,Rxf1,a5,Be3,Rfd8,Ne4,Rd5,Qc3,b4,Qc6,Qe8,Qxe8+,Rxe8,Rc1,h6,Rc5,Rxc5,Nxc5,Rc8,Kf1,Kf8,Ke2,Ke7,Kd3,g5,Kc4,Kd6,Kb5,Kd5,Kxa5,Rxc5+,Bxc5,Kxc5,Ka4,f5,Kb3,e5,Kc2,Kc4,Kd2,g4,Ke3,h5,Ke2,Kd4,Kd2,Kc4,Ke3,Kc5,Kd3,Kb5,a3,bxa3,bxa3,Kc5,Kc3,Kb5,Kb3,f4,Kc3,Kc5,Kd3,Kd5,a4,e4+,Kc3', 'e3,Kd3,exf2', 'https://lichess.org/training/qpEtA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QPFyi', 'Blitz', 'UgarNik', 1934, 'Frostx20', 1960, 'g3,d5,Bg2,c5,d3,e6,Nf3,Nc6,Bg5,Nge7,O-O,h6,Bd2,Ng6,a3,Be7,c3,O-O,b4,b6,bxc5,bxc5,c4,d4,Nh4,Bd7,Nf3,Rb8,a4,Na5,Na3,Nb3,Rb1,Bxa4,Nb5,Nxd2,Qxd2,Bxb5,cxb5,Qd7,Qa5,Rb6,Rb2,Rfb8,Rfb1,a6', 'bxa6,Rxb2,Rxb2,Rxb2,a7', 'https://lichess.org/training/QPFyi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qPGLv', 'Rapid', 'strompur', 2381, 'BatuhanCansu', 2438, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,d5,e3,c5,c3,cxd4,exd4,O-O,Bd3,Nc6,O-O,a6,a4,Qb6,Rb1,Bf5,Bxf5,gxf5,Re1,Ne4,Bf4,e6,Nf1,Qd8,N3d2,b5,axb5,axb5,f3,Nd6,Nb3,b4,Nc5,Nb5,Bd2,Nbxd4', 'cxd4,Bxd4+,Be3', 'https://lichess.org/training/qPGLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qpgrg', 'Rapid', 'DraganM86', 1743, 'art21tuncay', 1725, 'd4,d5,Nc3,Nf6,Bg5,e6,e4,dxe4,Nxe4,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Nf3,O-O,Be2,b6,O-O,Bb7,c3,Nd7,h3,Rad8,Qc1,e5,dxe5,Nxe5,Nxe5,Qxe5,Bg4,Qd5', 'Bf3,Qf5,Bxb7', 'https://lichess.org/training/qpgrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QpHLi', 'Rapid', 'simonraes87', 1900, 'cmwetherell', 1839, 'd4,e6,Nc3,d5,Bf4,c5,e3,cxd4,exd4,Nf6,Nf3,Bb4,Bd3,O-O,O-O,Bd6,Ne5,Nbd7,Re1,Ng4,Qxg4,Bxe5,dxe5,f5,Qg3,Nc5,Bh6,Qe7,Be3,Nxd3,cxd3,Bd7,d4,Qf7,Qf3,Qg6,Nxd5,exd5,Qxd5+,Kh8,Qxb7', 'Bc6,Qxc6,Qxc6', 'https://lichess.org/training/QpHLi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QPlg5', 'Classical', 'DrKhaled_Cristiano', 1937, 'ahmed_abosreaa', 1638, 'd3,e5,Nf3,d6,c3,Bg4,h3,Bxf3,exf3,h6,g4,Nc6,Bg2,Qd7,O-O,Nf6,Re1,Be7,Na3,a6,Be3,g5,Nc2,Nd8,d4,exd4,Bxd4,Ne6,Bxf6,Bxf6,Nd4,O-O-O,Nxe6,fxe6,Rb1,e5,Qb3,Rde8,f4,Qb5,Qxb5,axb5,fxe5,Rxe5,Rxe5,Bxe5,Rd1,Re8,Kf1,b4,cxb4,Bxb2,b5,Re5,a4,Rc5,Rd2,Rc1+,Ke2,Bc3,Rd1,Rc2+,Kd3,Rxf2,Bxb7+,Kxb7,Kxc3,Rf3+,Rd3', 'Rxd3+,Kxd3,Kb6,Kc4,Ka5,Kb3,d5,Ka3,d4,Kb3,d3', 'https://lichess.org/training/QPlg5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QPmu4', 'Rapid', 'jonyan', 1754, 'Paquiderme', 1788, 'e4,b6,d4,Bb7,e5,e6,Nf3,c5,c3,cxd4,cxd4,f6,Bd3,fxe5,Nxe5,Nf6,O-O,Be7,Bg5,O-O,Bxf6,Bxf6,Qh5,g6,Nxg6,hxg6,Qxg6+,Bg7,Qh7+,Kf7,Bg6+,Kf6,g4,Rh8', 'g5+,Kxg5,Qxg7', 'https://lichess.org/training/QPmu4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QpnbL', 'Blitz', 'tonyboulus', 1545, 'nachoma96', 1587, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Ba6,Bxa6,Qa5+,Nc3,Qxa6,Be3,Bb4,Qg4,Nf6,O-O-O,O-O,Qg3,Bxc3,Bh6,Nh5,Qg4,Qxa2,bxc3,g6,Bxf8,Rxf8,Qxd7,Nf4,Qxc6,Ne2+,Kd2,Rd8+,Ke3,Rxd1,Rxd1,Qxc2,Rd2,Qxc3+,Qxc3,Nxc3,Rd8+,Kg7,Rd7,Nb5,Rb7,Nd6,Rxa7,Nc4+,Kd3,Nb2+,Kc3,Nd1+,Kd2,Nxf2,Ra5,Nxe4+,Ke3,Nd6,h4,f5,Ra7+,Kh6,g3,Nc4+,Kd3,Nd6,Ra5,e4+,Kd4,Nf7,Ra1,Nd8,Rf1,Ne6+,Ke3,Nc5,Rc1,Nb3,Rd1,Nc5,Kf4,Nd3+,Ke3,Kh5,Ra1,Kg4,Ra7,h6,Rh7,Kxg3,Rxh6,Kg4,Rxg6+,Kxh4,Rg8,Ne5,Kf4,Ng4', 'Rh8+,Nh6,Rxh6#', 'https://lichess.org/training/QpnbL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qPo8b', 'Blitz', 'SpeedGod2', 2209, 'adolfoloya86', 2234, 'e4,c6,d4,d5,e5,c5,Nf3,Nc6,c3,cxd4,cxd4,Bg4,Be2,e6,Be3,Bb4+,Nc3,Nge7,O-O,Nf5,h3,Bxf3,Bxf3,Qb6,Na4,Qa5,b3,b5,Nc5,Bxc5,dxc5,b4,Rc1,Nxe3,fxe3,O-O,Qc2,Nxe5,e4,Nxf3+,Rxf3,dxe4,Qxe4,Qxa2,Rcf1,Rac8,Qb7,f6,Qe7,Qe2,Rg3,g6,Rxf6,Rxf6,Qxf6,Qe4,Rf3,a5,Qf7+,Kh8,Qd7,Qe1+,Rf1,Qe3+,Kh1,Qxc5,Rf7,Qc1+,Kh2,Qc3', 'Rxh7+,Kg8,Qf7#', 'https://lichess.org/training/qPo8b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qPoj9', 'Classical', 'Infexer', 1696, 'remchillhaas', 1732, 'Nc3,d5,d4,Nc6,Nf3,Bf5,Bf4,Nb4,Rc1,c6,a3,Na6,b4,e6,e3,Nc7,Bd3,Bg6,O-O,Be7,Ne5,Bg5,Qg4,Bxf4,Qxf4,Nf6,Nxg6,hxg6,Qf3,Qd6,g3,O-O-O,Na4,Rh3,Kg2,Rdh8,Rh1,g5,e4,dxe4,Bxe4,g4,Qe2,Qxd4,Nc5,Ncd5,Bxd5,Qxd5+,Kg1,b6,Nd3,Ne4,Nf4,Nc3', 'Qa6+,Kb8,Nxd5', 'https://lichess.org/training/qPoj9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qPoua', 'Blitz', 'sale9100', 2047, 'stronger', 2009, 'e3,d5,Qf3,Nf6,Qg3,Nc6,Be2,e5,d3,g6,h4,Bg7,h5,Rf8,Bd2,Be6,Nc3,Qd7,Qh4,O-O-O,h6,Bh8,Qa4,Kb8,Nf3,Ng4,Ng5,f5,f3,Nf6,O-O-O,Nh5,d4,Ng3,Bb5,Nxh1,Rxh1,exd4,exd4,a6,Bxc6,Qxc6', 'Qxc6,bxc6,Nxe6', 'https://lichess.org/training/qPoua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qpPb2', 'Rapid', 'ynbioodz', 1875, 'suryavet', 2148, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,Bg4,d3,Nf6,Nc3,Nc6,Be3,Ne5,Qe2,Bxf3,gxf3,Nxc4,dxc4,Qe7,O-O-O,Qe6,Nd5,Nxd5,cxd5,Qe5,Qb5+,Kd8,Qxb7,Rc8,Rhe1,Be7,Bxa7,Qf4+,Be3,Qxf3,a4,Qe4,a5,Qa4,a6,Kd7,a7,Bf6,Rd3,Qa1+,Kd2,Qxb2,Rb3,Qa2,Qb5+,Kd8,Qb8,Qa5+,Kd1,Qa1+,Kd2,Qa5+,Kc1', 'Qxe1#', 'https://lichess.org/training/qpPb2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QpPdh', 'Rapid', 'destronador', 1737, 'raydes', 1670, 'e4,c5,Nf3,a6,Bc4,e6,d3,b5,Bb3,Bb7,Be3,c4,dxc4,bxc4,Bxc4,Bxe4,Nc3,Bb4,Qd2,Qa5,Ng5,Bxc3,bxc3,Bxg2,Rg1,Bc6,O-O-O,Qa3+,Kb1,d5,Bb3,Nd7,Bd4,Ngf6,Bxf6,Nxf6,Nf3,O-O,Nd4,Ba4,Qh6,g6,h4,Bxb3,Nxb3,Rab8,h5,Ne4,hxg6', 'Nxc3+,Ka1,Qxa2#', 'https://lichess.org/training/QpPdh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QPq23', 'Rapid', 'lojda2', 1839, 'kishomat', 1729, 'e4,e6,d4,d5,exd5,exd5,h3,Nf6,Nf3,Be7,Bd3,h6,O-O,Be6,Nbd2,O-O,c4,c6,cxd5,Bxd5,Nc4,Nbd7,Nce5,Nxe5,Nxe5,Bd6,f4,Ne4,Bxe4,Bxe4,f5,Qb6,Nd7,Qc7,Nxf8,Bh2+,Kh1,Bxg2+,Kxg2,Qg3+,Kh1,Qxh3,Qf3', 'Bg3+,Kg1,Qh2#', 'https://lichess.org/training/QPq23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qpq5J', 'Rapid', 'alirezachemist110', 1664, 'MateusGeolog', 1670, 'e4,c6,Nc3,e5,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Nxe5,d4,Bxd7+,Nxd7,Nxd7,dxc3,dxc3,Qxd7,Qxd7+,Kxd7,O-O,Nf6,Be3,Bd6,Rad1,Rad8,Bc5,Ne4,Bxa7,Ra8,Bd4,f6,a3,Ke7,f3,Ng5,Rfe1+,Kf7,Be3,Rhe8,Rxd6,Kg6,Kf2,Ra5,Bb6,Rxe1,Kxe1,Re5+,Kf2,Rf5,h4', 'Ne4+,Ke2,Nxd6', 'https://lichess.org/training/Qpq5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qpRB4', 'Rapid', 'Migue_Carrillo', 1647, 'Tramurr', 1649, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Nf6,O-O,Bd7,d4,Nxe4,dxe5,a6,Bxc6,Bxc6,exd6,Bxd6,Re1,f5,Nd4,O-O,Nxc6,bxc6,Be3,f4,Bd4,f3,Rxe4,fxg2,Rg4,c5,Bxg7', 'Bxh2+,Kxh2,Qxd1', 'https://lichess.org/training/qpRB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qPSTg', 'Rapid', 'chessmaster25', 1622, 'OZUTALOR', 1658, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,a3,d6,h3,O-O,d4,Bd7,O-O,exd4,Nxd4,Nxd4,Qxd4,Bc6,f4,Re8,Rf3,Bf8,Bd3,Nd7,Rg3,f5,Bc4+,Kh8,exf5,Nf6,Bf7,Re1+,Kh2,Nh5,Bxh5,Qh4,Bg4,Rae8,f6', 'Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/qPSTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qpsuk', 'Rapid', 'Shamo47', 1721, 'Dr-Dang', 1721, 'd4,Nf6,Nf3,e6,Bg5,h6,Bh4,c5,Bxf6,Qxf6,e3,cxd4,Qxd4,Be7,c3,Nc6,Qxf6,Bxf6,Nbd2,a6,Bd3,b5,O-O,Bb7,Ne4,Be7,a3,O-O,Rad1,Rad8,b4,a5,Nc5,Bxc5,bxc5,b4,axb4,axb4,cxb4,Nxb4,Bb5,Bc6,Bxc6,Nxc6,Nd4,Rc8,Nxc6,Rxc6,Rxd7,Rxc5,h3,g6,Rb1,Rfc8,Rbb7,Rc1+,Kh2,Rf8,g3,Rc2,Kg2,Kg7,h4,Rc5,f4,Rc2+,Kf3,Rc1,Rb5,Rf1+,Kg2,Rc1,h5,Rc2+,Kf3,Rfc8,hxg6,Kxg6,Rbb7,Rf8,g4,Rc1,Rb5,Rf1+,Ke2,Rg1,Kf3,Kf6,Rb6,Rg8,Rbb7,Rg7,e4,R1xg4', 'e5+,Kg6,Kxg4', 'https://lichess.org/training/Qpsuk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qpu8J', 'Classical', 'po789654', 1675, 'Marcel_von_DD', 1704, 'e4,e5,d3,Nc6,Be3,Nf6,Nd2,d5,c3,d4,Bg5,h6,Bxf6,Qxf6,c4,Bb4,a3,Bxd2+,Qxd2,Bg4,f3,Bh5,Be2,O-O,Nh3,Qh4+,Nf2,b6,g3,Qf6,g4,Bg6,h4,Na5,Qb4,Qf4,c5,f5,g5,Qg3,c6,fxe4,Rh3,Qg1+,Bf1,e3,O-O-O,Qxf2,gxh6,gxh6,Re1,Nb3+,Qxb3+,Bf7,Qd1,Be6', 'Re2,Qg1,Rg2+,Qxg2,Bxg2', 'https://lichess.org/training/qpu8J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QpUWp', 'Rapid', 'Artem979', 2054, 'SoFlo', 2020, 'd4,d5,c4,Nc6,Nc3,Nf6,Nf3,Bf5,e3,Nb4,Qa4+,Nc6,a3,e6,Be2,h5,O-O,h4,h3,g5,Nxg5,Rg8,Nxf7,Kxf7,Kh2,Bd6+,f4,Ne4,Nxe4,Bxe4,Rf2,Rg3,Bd2,Qg8,Rg1,Ke7,c5,Qg7,cxd6+,cxd6,Qd1,Rg8,Bg4,Bf5,Bxf5,exf5,b4,a6,a4,Ke6,b5,axb5,axb5,Na7,Qa4', 'Rxh3+,gxh3,Qxg1#', 'https://lichess.org/training/QpUWp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QpvsH', 'Classical', 'sam_tos', 1667, 'chibato182', 1698, 'Nf3,e6,g3,d5,Bg2,c5,d4,cxd4,Nxd4,Bc5,O-O,Nf6,b3,Bxd4,Qxd4,O-O,Bb2,Nc6,Qd1,b5,Nd2,a5,e4,a4,exd5,Nxd5,c4,a3,Bxg7,Kxg7,cxd5,exd5,Qf3,Be6', 'Qc3+,Qf6,Qxc6', 'https://lichess.org/training/QpvsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QPvU5', 'Blitz', 'onionwood', 1666, 'Kpopov', 1646, 'e4,e6,c4,d5,cxd5,exd5,exd5,Qxd5,Nc3,Qe5+,Be2,Nf6,Nf3,Qa5,O-O,Bd6,d4,O-O,Bg5,c6,Bxf6,gxf6,Bd3,Kh8,Nh4,Rg8,Ne4,Be7,Qf3,Bg4,Qf4,Nd7,Qh6,Qh5,Qxh5,Bxh5,Nf5,Bb4,a3,Ba5,b4,Bc7,Nh6,Rg7,Ng3,Bg6,Ngf5,Bxf5,Nxf5,Rg5,Ng3,Rag8,Rae1,Bd6,Nf5', 'Rxg2+,Kh1,Rxh2#', 'https://lichess.org/training/QPvU5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QPYX8', 'Classical', 'boreconstrictor', 1997, 'JustMarin', 2005, 'd4,Nf6,g3,g6,Bg2,Bg7,e4,d6,Ne2,O-O,Kf1,Nbd7,h3,e5,d5,Ne8,g4,f5,gxf5,gxf5,exf5,Rxf5,Ng3,Rf8,Nc3,Qh4,Nce4,h6,Qh5,Qxh5,Nxh5,Nef6,Nexf6+,Nxf6,Nxf6+,Rxf6,Be3,Bf5,Rc1,Raf8,Ke2,h5,Rhg1,Kh7,c3,Bh6,Bxh6,Kxh6,f3,Bg6,h4,Rf4,Rh1,Bf7,Rcd1,Bg8,b3,b5,Rd2,e4,fxe4', 'Rf2+,Ke1,Rxd2,Kxd2,Rf2+,Ke3,Rxg2', 'https://lichess.org/training/QPYX8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QQ276', 'Blitz', 'Maryin1955', 1860, 'Vasilij91', 2177, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Be2,Bf5,c3,e6,Qb3,Qd7,Bf4,Nf6,Ne5,Nxe5,dxe5,Qc7,exf6,Qxf4,Nd2,gxf6,Qxb7,Qb8', 'Bb5+,Kd8,Qd7#', 'https://lichess.org/training/QQ276');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QQ3q9', 'Blitz', 'ami17', 1923, 'Giftbold', 1891, 'd4,Nf6,c4,e6,Nc3,c5,d5,exd5,cxd5,d6,e4,g6,h4,h5,Bg5,Bg7,Qd2,O-O,O-O-O,Qa5,f3,a6,Be2,b5,g4,b4,Nb1,hxg4,fxg4,Nxe4,Qe3,Qxa2,Rd2,Nxd2,Qxd2,Bb7,h5,Qxd5,Qxd5,Bxd5,Rh3,Nd7,Nf3,Ne5,Nxe5,Bxe5,h6,Kh7,Nd2,Rae8,Bd1,Be6,Ne4,a5,Bf6,Ra8', 'Ng5+,Kg8,h7#', 'https://lichess.org/training/QQ3q9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qq3xi', 'Rapid', 'TatianaDOS', 1736, 'Jogador_tryhard', 2108, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Nbd2,Qxf4,e3,Qb4,Qc1,Bc5,c3,Qb6,Nc4,Bxe3,Nxb6', 'Bxc1,Nxa8,Bxb2,Nxc7+,Kd8,Nb5,Bxa1', 'https://lichess.org/training/Qq3xi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qq5lj', 'Rapid', 'iansandlerg', 1614, 'Game_Changer11', 1626, 'd4,Nf6,Bf4,g6,e3,Bg7,c3,O-O,Nd2,d6,Ngf3,Nbd7,Bd3,c5,b3,cxd4,exd4,Nb6,Qc2,Re8,Nh4,e5,Bg5,h6,Bxf6,Bxf6,Bxg6,Bxh4,Bxf7+,Kxf7,Qh7+,Ke6,Qxh6+,Bf6,Qh3+,Ke7,Qh7+,Ke6,Qh3+,Kd5,Qf3+,e4,c4+,Kxd4', 'Qe3+,Ke5,Qxe4#', 'https://lichess.org/training/Qq5lj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qq62T', 'Rapid', 'joseagf', 2013, 'ramtel', 1963, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,d6,Nc3,a6,O-O,Be7,a4,O-O,Be3,Bd7,f4,Nc6,Nxc6,Bxc6,e5,dxe5,fxe5,Nd5,Nxd5,Bxd5,Qh5,g6,Qh6,f5,exf6,Rxf6,Bd4,Qf8,Qe3,Rf7,c4,Bc6,Qxe6,Re8,Qxf7+,Qxf7,Rxf7,Kxf7,Rf1+,Ke6,b3', 'Rd8,Re1+,Kf7,Rxe7+,Kxe7', 'https://lichess.org/training/Qq62T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qq6dc', 'Blitz', 'barmak', 1982, 'Balgakov', 1985, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Be7,e3,h6,Bf4,O-O,Bd3,b6,cxd5,exd5,O-O,Bg4,h3,Bxf3,Qxf3,Nbd7,Rac1,a5,Bb1,Rc8,Qe2,c5,dxc5,Nxc5,Rfd1,Qd7,e4,d4,Nb5,Ne6,Rxc8,Rxc8,e5,Nh7,Qe4,g6,Nxd4,Nxd4,Rxd4,Qe6,Bxh6,Bg5,Bxg5,Nxg5,Qe1,Qc6,Rd6,Qc1,Rd1,Qxb2,h4,Ne6,a4,Kg7,Qd2', 'Qxd2,Rxd2,Rc1+,Kh2,Rxb1', 'https://lichess.org/training/Qq6dc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQ6l4', 'Rapid', 'Babti', 2144, 'merab_archvadze', 2259, 'e4,c6,b3,d5,exd5,cxd5,Bb2,Nc6,h3,Bf5,Nf3,e6,Bb5,Bg6,Ne5,Qb6,Nxg6,hxg6,Be2,Nf6,Nc3,Rc8,O-O,Be7,Rc1,O-O,d3,a6,Nb1,Nd4,c3,Nxe2+,Qxe2,Qa5,a4,Qb6,b4,d4,a5,Qd6,c4,Qd7,Qd2,Qa4,Bxd4,Bxb4,Bc3,Bxc3,Qxc3,Rfd8,Rfd1,Ne4,Qb2,Rxc4,Qb6,Rcd4,Qxb7,Nf6,Qxa6,R4d6,Nc3', 'Qxd1+,Nxd1,Rxa6', 'https://lichess.org/training/qQ6l4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQ6Mn', 'Rapid', 'Aksam86', 1861, 'lesorub1e', 1869, 'd4,d5,Bf4,e6,e3,a6,Nf3,c5,a3,Qa5+,Nc3,Nc6,Be2,Nf6,h3,Ne4,O-O,Nxc3,bxc3,Qxc3,Ne5,Nxe5,dxe5,Be7,e4,d4,Bd2,Qb2,Ba5,d3,Bxd3,Qxe5,Qg4,O-O,Bd2,Bf6,h4,h5,Qf3,Bxh4,Bf4,Qf6,e5,Qe7,Qxh5,g6,Bxg6', 'fxg6,Qxg6+,Qg7', 'https://lichess.org/training/qQ6Mn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qq7D2', 'Blitz', 'PiotrTchaikovsky', 1619, 'Gump22', 1642, 'e4,c5,Nf3,g6,Bc4,Nc6,c3,Nf6,d4,Nxe4,Bd3,Nf6,dxc5,Qa5,b4,Nxb4,cxb4,Qxb4+,Bd2,Qxc5,O-O,Bg7,Re1,Nd5,Ne5,d6,Qa4+,Kf8,Bc3,dxe5,Bb2,Bf5,Bxf5,gxf5,Nd2,f6,Rac1,Nb6,Qh4,Qb5,Nb3,Rc8,h3,Rxc1,Rxc1,Qa4,Rd1,Qxa2', 'Rd8+,Kf7,Qh5+,Ke6,Nc5#', 'https://lichess.org/training/qq7D2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qq7jn', 'Rapid', 'Boomrang', 2117, 'ngbansoon_821107', 2210, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,Ne4,Qc2,f5,g3,O-O,f3,Nf6,e3,d5,cxd5,Nxd5,c4,Nf6,Bg2,Nbd7,Ne2,c5,Bb2,cxd4,exd4,Nb6,O-O,Bd7,c5,Ba4,Qc1,Rc8,Nc3,Qxd4+,Kh1,Nbd5,Nxa4,Qxa4,Be5,Rfd8,Rd1,Qc6,Bd6,Qb5,Qb1,Qa6,f4,Rd7,Bf1,Qc6', 'Bb5,Rxd6,Bxc6', 'https://lichess.org/training/qq7jn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQ892', 'Blitz', 'TrOleg', 1813, 'zuperman', 1774, 'd4,d5,c4,c6,Nc3,e6,Bf4,Bb4,c5,Bxc3+,bxc3,f5,e3,Nf6,f3,O-O,Bd3,Nh5,Bd6,Rf7,Qc2,Nf6,g4,Ne8,Be5,Nd7,Bg3,Ndf6,gxf5,exf5,Bxf5,Nh5,Bxh7+,Kh8,Be5,Nef6,Bg6,Rf8,Bd6,Re8,Bxe8,Qxe8,Be5,b6,cxb6,axb6,Nh3,Ba6,Ng5,g6,Rg1,c5,Nh3,Kh7,Ng5+,Kg8,Ne6,Kh7,Nc7,Qf7,Nxa8,cxd4,cxd4,Ne4,fxe4,dxe4,Qxe4,Ng7,Bxg7,Qxg7,Qh4+,Kg8,Qd8+,Kh7,O-O-O,Qf7,Rdf1,Qc4+,Kb1,Qd3+,Ka1', 'Qc3+,Kb1,Bd3#', 'https://lichess.org/training/qQ892');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qq8eQ', 'Rapid', 'selaromlibre669', 1899, 'sully94', 1890, 'e4,e5,Bc4,Bc5,Nf3,d6,d4,exd4,Nxd4,Qf6,Nf3,Bg4,Nbd2,Nd7,O-O,O-O-O,c3,Ne5,Be2,Ne7,Nxe5,Bxe2,Qxe2,dxe5,Nf3,h6,a4,Ng6,b4,Bd6,Be3,Nf4,Qd2,Bxb4,Qb2,Bxc3,Qb5,Bxa1,Rxa1,a6,Qc5,Qg6,Bxf4,exf4,Qa7,Qxe4,Rc1,Rhe8,h3,g5,Re1,Qc6,Ne5,Rxe5,Rxe5,Rd1+,Kh2,f3', 'Qa8+,Kd7,Qe8+,Kd6,Qe7#', 'https://lichess.org/training/Qq8eQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qq9KD', 'Rapid', 'Piksiebenn', 2177, 'Snoustusaig', 2302, 'e4,e5,Nf3,f5,Nxe5,Nf6,Be2,fxe4,Ng4,d5,Nxf6+,Qxf6,O-O,Bd6,d3,exd3,cxd3,O-O,d4,Nc6,Be3,Qh4,g3,Qf6,Nc3,Be6,Nb5,Bh3,Re1,Rae8,Nxd6,Rxe3,fxe3', 'Qf2+,Kh1,Qg2#', 'https://lichess.org/training/qq9KD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQA05', 'Rapid', 'TEW', 1665, 'minami_nguyen0301', 1713, 'c4,e6,g3,Nf6,Bg2,d5,cxd5,exd5,e3,c6,d4,Bf5,Nc3,Bd6,Nf3,Nbd7,O-O,O-O,a3,Rc8,Re1,Re8,b4,b5,Nh4,Be6,e4,dxe4,Nxe4,Bb8,Nxf6+,Nxf6,Bg5,h6,Bxf6,Qxf6,Rc1,Bd5,Rxe8+,Rxe8,Bxd5,cxd5,Qf3,Qxd4,Rd1,Qe4,Rxd5,Qc4,Nf5', 'Re1+,Kg2,Qf1#', 'https://lichess.org/training/qQA05');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QqAfk', 'Rapid', 'nik_anry', 2029, 'tortob20', 1973, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Nf3,Bb7,Bd3,O-O,O-O,Bxc3,bxc3,d6,Re1,Nbd7,a4,a5,Ba3,Re8,Qc2,h6,e4,e5,dxe5,Nxe5,Nxe5,dxe5,Rad1,Qc8,f3,Qe6,c5,Rad8,Qe2,Qb3,Bb2,bxc5,Rb1,Qe6,Bc4,Qe7,Ba3,Bc6,Bb5,Bd7,Qe3,c6,Bxc5,Qe6,Be2,Rb8,Bb6,Qa2,Bd3,Qxa4,Bc7,Rxb1,Rxb1,Be6,Qc5,Ba2,Rf1,Re6,Bxa5,Nd7,Qa7,c5,Bb6', 'Nxb6,Qxa4,Nxa4', 'https://lichess.org/training/QqAfk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QqBIn', 'Rapid', 'palashp', 1726, 'Kaal-Bhairav', 1791, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Bd6,Nc3,f6,Nf3,Nh6,h3,Qe7,Bd3,Nb4,O-O,Nxd3,Qxd3,c6,Bxh6,gxh6,Rfe1,Bc7,e5,fxe5,Qf5,d6,Qh5+,Qf7,Qxh6,Be6', 'Ng5,Qg6,Qxg6+,hxg6,Nxe6', 'https://lichess.org/training/QqBIn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QqbUB', 'Rapid', 'bert45', 1976, 'bigplouc2', 1886, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,h3,Bh5,g4,Bg6,Ne5,Nbd7,Nxg6,hxg6,Bg2,c6,Bd2,e6,Qf3,Qc7,Bf4,Bd6,Bxd6,Qxd6,O-O-O,O-O-O,g5,Nh5,Qxf7,Rdf8,Qxg6,Rxf2,Ne4', 'Qf4+,Kb1,Rxg2', 'https://lichess.org/training/QqbUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QQcav', 'Rapid', 'Aroh9', 1665, 'Quickmate55', 1689, 'd4,d5,Bf4,Nf6,e3,e6,a3,Bd6,Bg3,Ne4,c4,Bxg3,hxg3,Qf6,Nf3,Bd7,cxd5,exd5,Qb3,Qc6,Bd3,Bf5,Nbd2,Nxd2,Nxd2,Bxd3,Qxd3,g6,O-O,Nd7,Nf3,O-O-O,Rac1,Qd6,Ng5,Rdf8,e4,h6,e5,Qe7,Qc2,c6,Nf3,h5,Nd2,h4,gxh4,Qxh4,f3,Qg3,Rf2,Rh2', 'Nf1,Rxg2+,Rxg2', 'https://lichess.org/training/QQcav');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QQDJO', 'Rapid', 'Viraj_2011', 1678, 'Ninadchavan', 1801, 'e4,c5,e5,Nc6,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,d6,Bf4,Qa5+,Bd2,Qb6,Bc3,dxe5,d5,Nd4,a4,Bg4,Bb5+,Nxb5,axb5,Bxf3,Qxf3,Nf6,Bxe5,Qxb5,Nd2,Qxd5', 'Qxd5,Nxd5,Bxg7', 'https://lichess.org/training/QQDJO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQdmQ', 'Rapid', 'Men_16', 2026, 'ozymandias0102', 2058, 'd4,d5,c4,e6,Nf3,Nf6,g3,c5,cxd5,exd5,Bg2,Nc6,dxc5,Bxc5,O-O,b6,Nc3,Bb7,Bg5,O-O,Nxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/qQdmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QQeDG', 'Rapid', 'Bebel5', 1960, 'Naringe', 2262, 'e4,e5,f4,Bc5,Nf3,d6,c3,f5,d4,fxe4,dxc5,exf3,Qxf3,Nf6,fxe5,dxe5,Bc4,Bg4,Qxb7', 'Qd1+,Kf2,Qxh1', 'https://lichess.org/training/QQeDG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQffi', 'Blitz', 'linus46', 2091, 'blasrv', 2035, 'e4,c5,Nc3,g6,f4,Bg7,Bc4,Nc6,d3,d6,Nf3,Nf6,O-O,O-O,Qe1,Bg4,f5,Bxf3,Rxf3,Nd4,Rh3,Nxc2,Qh4,Nxa1,fxg6,hxg6,Nd5,Re8,Nxf6+,exf6,Qh7+,Kf8,Bh6,Ke7,Qxg7,Rf8,Rf3,Kd7,Rxf6,Kc7,Bxf7,Qe7,Bg5,Rg8,Qh7,Rh8,Qxg6,Qe5,Bf4,Qd4+,Kh1,Qxd3,Bxd6+,Kd8,Bc4,Qxc4,Be7+,Kc8,Rc6+,bxc6', 'Qxc6+,Kb8,Bd6#', 'https://lichess.org/training/qQffi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QqfJW', 'Rapid', 'Supstane', 1863, 'YakovSN', 1903, 'g3,c6,c4,Nf6,d4,d5,cxd5,cxd5,Nc3,Nc6,Bg2,Bf5,Qb3,Nxd4,Qxb7,Nc2+,Kf1,Nxa1,Nxd5,Nxd5,Bxd5,Rc8,Be3,Rc7,Qb5+,Bd7,Qd3,Nc2,Nf3,Nxe3+,fxe3,Bc6', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/QqfJW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQGTl', 'Classical', 'HMA04', 1748, 'acutedeath', 1733, 'Nf3,d5,c4,g6,d4,Bg7,cxd5,Qxd5,e3,Nc6,Nc3,Qa5,a3,Bf5,Be2,O-O-O,O-O,e5,e4,Nxd4,exf5', 'Nxf3+,Bxf3,Rxd1', 'https://lichess.org/training/qQGTl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qqH0e', 'Blitz', 'lunemberg79', 1987, 'RedaFouani_79', 1874, 'e4,g6,d4,Bg7,Nc3,d6,Be3,a6,f4,e6,Nf3,Ne7,Be2,b5,a3,Bb7,O-O,f5,Ng5,Qd7,d5,exd5,exd5,O-O,Ne6,Rf7,Nxg7,Rxg7,Bd4,Rf7,Bf3,c5,dxc6,Bxc6,Re1,Bxf3,Qxf3,Nbc6,Bf2,Rc8,Rad1,Qc7,Qd3,Rd8,Re6,d5,Rde1,Qxf4,Bg3,Qc4,Qxc4,bxc4,Bh4,Rd7,Na4,Kf8,Nc5,Ra7,Bg5,Nd4,Rb6,Ra8,c3,Nc8,Rb7,Rxb7,Nxb7,Nb3,Bh6+,Kf7,Re5,Ra7', 'Nd8+,Kg8,Re8#', 'https://lichess.org/training/qqH0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QqhKS', 'Blitz', 'Autismus', 1909, 'alfaxedrez', 2119, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Qc7,Qf3,b5,O-O-O,b4,Nd5,exd5,exd5,Be7,Bxf6,Bxf6,Re1+,Kf8,Qe3,Bd7,g4,a5,g5,Bxd4', 'Qe7+,Kg8,Qe8+,Bxe8,Rxe8#', 'https://lichess.org/training/QqhKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQk3Y', 'Rapid', 'Pauluswelang', 2027, 'Todamont', 1972, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,e6,Be2,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O,d6,a3,dxe5,dxe5,b6,Ne4,Bb7,Nd6,Qc7,Rc1,Rad8,Bb5,Nde7,Qa4,Ba8,Rc2,a6,Bxa6,Qa7,Nc4,Na5,Bb5,Bxf3,gxf3,Rd4,b4,Qb7,bxa5', 'Qxf3,Ne3,Rxa4', 'https://lichess.org/training/qQk3Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QqKNd', 'Blitz', 'FM realcyberbird', 2526, 'Juti', 2240, 'd4,d5,c4,c6,Nf3,Nf6,e3,Bf5,Nc3,e6,Nh4,Bg6,Nxg6,hxg6,Qb3,Qb6,Bd2,Nbd7,Be2,dxc4,Qxc4,Be7,h3,O-O,O-O,Qxb2,Rab1,Qxd2,Rfd1,Qxd1+,Bxd1,Nb6,Qb3,Nfd5,Bf3,Rfd8,Ne4,Rac8,a4,Rd7,a5,Na8,Rc1,b6,a6,f5,Nd2,c5,dxc5,Bxc5,Rd1,Nac7,e4,Nf6,exf5,gxf5,Nc4,Rcd8,Ne5,Rxd1+,Bxd1,Ne4,Nc6,Rd6,Nxa7,Nxa6,Nb5,Rc6,Bf3', 'Bxf2+,Kh2,Bg3+', 'https://lichess.org/training/QqKNd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qqm7O', 'Classical', 'Vya4eslav', 1723, 'Berserker90', 2013, 'e4,e5,Nf3,Nc6,Bb5,f5,exf5,e4,Qe2,Qe7,Bxc6,dxc6,Nd4,Qe5,c3,Bd6,Ne6,Bxe6,fxe6,Nf6,d4,exd3,Qxe5,Bxe5,O-O,O-O-O,f4,Bd6,Nd2,Bc5+,Kh1,Be3,Nc4,Bxc1,Raxc1,d2,Rcd1,Ne4,Ne5,Rhe8,f5,Rd5,Nc4,Kd8,Rf4,Nd6,Rxd2', 'Nxc4,Rxd5+,cxd5', 'https://lichess.org/training/qqm7O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QqMzK', 'Blitz', 'bencekomik', 1603, 'appleberries3', 1564, 'Nf3,Nf6,g3,d5,Bg2,c5,O-O,Nc6,d3,Bg4,h3,Bd7,c4,d4,e3,e5,exd4,cxd4,a3,Be7,b4,a6,Nbd2,Rc8,b5,axb5,cxb5,Na5,a4,b6,Ba3,O-O,Bxe7,Qxe7,Rc1,Nd5,Nxd4,Nc3,Rxc3,Rxc3,Ne2,Rxd3,Be4,Ra3,Qb1,Be6,Bxh7+,Kh8,Bc2,Bxh3,f4,Bxf1,Kxf1,Rd8,Nf3,exf4,Kg2,fxg3', 'Qh1+,Kg8,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/QqMzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QQNbG', 'Rapid', 'lkijanovic', 1819, 'AbDoMaDy', 1694, 'd4,g6,c4,Nf6,Nf3,Bg7,Nc3,d6,e4,e5,Be3,Nbd7,Be2,O-O,O-O,h6,Ne1,b6,d5,Nc5,f3,Bb7,b4,Ncd7,Qd2,a6,Bxh6,Nh5,Be3,Kh7,Nd3,f5,c5,dxc5,bxc5,f4,Bf2,g5,c6,Bxc6,dxc6,Nc5,Bxc5,bxc5,Rfd1,Qd4+,Kh1,Rad8,Nd5,Rd6,Bf1', 'Ng3+,hxg3,Rh6#', 'https://lichess.org/training/QQNbG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQNuB', 'Rapid', 'A129', 2120, 'Sirleopold', 2247, 'd4,d5,c4,c6,Nc3,Nf6,e3,a6,Nf3,b5,cxd5,cxd5,Qb3,e6,Bd2,Nc6,Rc1,Na5,Qd1,Nc4,b3,Nxd2,Nxd2,Ba3,Rc2,O-O,Bd3,Bb7,O-O,Rc8,Ndb1,Bd6,Qd2,b4,Na4,Rxc2,Qxc2,Qb8,h3,Rc8,Qd2,a5,Rc1,Ne4,Rxc8+,Qxc8,Qc2,Qxc2,Bxc2,f5,f3,Nf6,Bd3,Nd7,Kf2,Bc6,Nb2,g6,Nd2,e5,Ke2,e4,Bc2,exf3+,Nxf3,Kg7,Bd3,Kf6,Kf2,h6,Be2,Nf8,Nd3,Nd7,g3,g5,h4,Bb7,hxg5+,hxg5,Nd2,Ke6,Nf3,Kf6,Nd2,Bc6,Nf3,a4,Nd2,axb3,axb3,Nf8,Nf3,Ng6,Nc5,f4,exf4,gxf4,gxf4,Nxf4,Bf1,Ne6,Nxe6,Kxe6,Bh3+,Kf6,Ke3,Bg3,Bg2,Be8,Kd3,Bg6+,Ke3,Bc2,Nd2,Ke6,Bf1,Bh4,Bd3', 'Bg5+,Kf2,Bxd3', 'https://lichess.org/training/qQNuB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qqOum', 'Rapid', 'Kaper13', 1662, 'FunnyFighter', 1732, 'd4,Nf6,Nf3,e6,e3,d5,c4,c6,Nc3,Bd7,Bd3,Qc7,O-O,b6,h3,h6,b3,Bd6,Bb2,a5,cxd5,exd5,Re1,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Bb4,Re2,Ra7,Rc1,Be6,d5,f5,dxe6,fxe4,Rxe4,Na6,Qc2,Nc5,Re2,Re8,Qc4,b5,Qg4,Qd6,Be5,Qxe6,Qxe6+,Nxe6,Rxc6,Nf4,Rec2,Nd3,Bd4,Ne1,Rc1,Nxf3+,gxf3,Rd7,Ba1,Re2,Rc7', 'Rxc7,Rxc7,Re1+,Kg2,Rxa1', 'https://lichess.org/training/qqOum');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQP9V', 'Rapid', 'Aiss', 1905, 'terencetao', 1910, 'd4,c5,c3,e6,e3,d5,f4,f5,Nf3,Nf6,Ne5,Nbd7,Nd2,Nxe5,fxe5,Ne4,Nxe4,dxe4,Bb5+,Bd7,Qa4,cxd4,Bxd7+,Qxd7,Qxd7+,Kxd7,cxd4,Bb4+,Bd2,Bxd2+,Kxd2,Rac8,Rac1,g5,g3,h5,b4,Rxc1,Kxc1,Rc8+,Kd2,b5,Rc1,Rxc1,Kxc1,Kc6,Kd2,Kd5,Kc3,h4,gxh4,gxh4,h3,a6,a3,Kc6,Kd2,Kd7,Ke2,Ke7,Kf2,Kf7,Kg2,Kg6,Kf2,Kg5,Ke2,f4,Kf2,Kf5,Ke2,f3+,Kf2,Kg6,Kf1,Kf7,Kf2,Ke7,Ke1,Kd7,Kf2,Kc6,Ke1,Kd5,Kf2,Kc4,Ke1', 'Kd3,Kf2,Kd2,d5,exd5,e6,d4,exd4,e3+,Kxf3,e2', 'https://lichess.org/training/qQP9V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQPb3', 'Rapid', 'Expandingmygame', 1871, 'amanezcannn', 2024, 'd4,Nf6,g3,d5,Bg2,c6,Bf4,g6,Nc3,Bg7,e4,dxe4,Nge2,Nd5,Bxe4,Nxf4,gxf4,Bg4,f3,Bh3,d5,Qa5,dxc6,Nxc6,Qd5,Qb6,O-O-O,Nb4,Qb3,Be6,Bd5,Nxd5,Nxd5,Qxb3,axb3,Rc8,Kb1,Bf5,Nec3,b5,b4,a5,Rhe1,e6,Nb6,Rc6,bxa5,b4,Ne4,O-O,Rd6', 'Bxe4,Rxc6,Bxc6', 'https://lichess.org/training/qQPb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qqPHJ', 'Rapid', 'edestin', 1767, 'bizkarrondo', 1684, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,e6,Nc3,Bd6,Ng5,Nf6,f4,O-O,Ne2,c5,c3,Rb8,Rb1,a5,Be3,Ng4,Bf2,Ba6,h3,Nxf2,Rxf2,h6,Nf3,Qb6,Kh1,Bxe2,Qxe2,Bxf4,Ne5,Bxe5,Qxe5,cxd4,cxd4,f6,Qg3,Qxd4,Rbf1,Kh7,b3,Qe5', 'Qxe5,fxe5,Rxf8', 'https://lichess.org/training/qqPHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QQpOo', 'Classical', 'eryilmazer24', 1740, 'gasi1998', 1687, 'e4,e5,Nf3,Nf6,Bc4,c6,Nc3,d5,exd5,cxd5,Bb5+,Nc6,O-O,a6,Bxc6+,bxc6,Nxe5,Bd6,Nxc6,Qc7,Re1+,Be6,Nd4,Bxh2+,Kf1,O-O,d3,Rae8,Bg5,Bg4,Qd2,Nh5,Nxd5,Qd7,Ne7+,Kh8,Re4,Rxe7,Bxe7,Re8,Rae1,f5,Nxf5,Qxf5,Qe3', 'Ng3+,Qxg3,Bxg3', 'https://lichess.org/training/QQpOo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qqpXB', 'Rapid', 'alkafory90', 1840, 'thedroidfanboy', 1879, 'e4,e5,Bc4,Nf6,d3,Bc5,Qf3,Nc6,Bg5,Nd4,Qd1,d6,h3,h6,Bh4,Be6,c3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bxb3,axb3,Qe7,Qf3,Nd8,Bxf6,gxf6,Ne2,Ne6,O-O,Rg8,b4,Ng5,Qg3,Bb6,Kh2,O-O-O,f4,exf4,Nxf4,Ne6,Qf3,Ng5,Qg4+,Kb7,Nd5,Qe5+,Kh1,c6,Nxb6,Kxb6,Rf5,Qe7,Qg3,Kb7,c4', 'Nxe4,dxe4,Rxg3', 'https://lichess.org/training/qqpXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QQqS9', 'Blitz', 'Mrking77', 2065, 'acpnomade', 2110, 'd4,e6,Nf3,d5,c4,c6,Nc3,f5,cxd5,exd5,Bg5,Nf6,e3,Bd6,Bd3,O-O,Qc2,Qd7,Bxf6,Rxf6,Ne5,Qe6,f4,Bb4,O-O,Rh6,a3,Bd6,b4,a6,Na4,Bxe5,fxe5,g6,Nc5,Qe7,Qf2,Nd7,Nxd7,Bxd7,a4,Rf8,Qf3,Qg5,b5,axb5,axb5,Qh4,h3,g5,bxc6,bxc6,Ra7,Rf7,Rxd7,Rxd7,Qxf5,Rd8,Qf7+,Kh8,Qe7,g4', 'Rf8+,Rxf8,Qxf8#', 'https://lichess.org/training/QQqS9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQsHY', 'Rapid', 'zohreh75flh', 1608, 'Sanek984', 1602, 'e4,e5,Bc4,Nc6,Nc3,Nf6,d3,d6,Bg5,h6,Bh4,g5,Bg3,Nd4,h3,b5,Bd5,c6,Bxc6+,Nxc6,Nxb5,Ba6,Nc3,Nd4,Nf3,Qb6,Nxd4,Qxd4,f3,Rb8,Rb1,d5,Bf2,Qb4,Bxa7,Rb7,Be3,d4,Bd2,dxc3,Bxc3,Qb6,Bxe5,Qe3+,Kf1,Nd7,Bxh8,Bc5,Qe1', 'Bxd3+,cxd3,Qxd3+,Qe2,Qxb1+', 'https://lichess.org/training/qQsHY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qqsj2', 'Rapid', 'dev105105', 1656, 'ridham2712', 1711, 'd4,Nf6,Bf4,b6,e3,Bb7,Nf3,g6,Bd3,Bg7,O-O,O-O,c4,c5,dxc5,bxc5,Nc3,Nh5,Qb3,Bxf3,gxf3,Nxf4,exf4,Nc6,Nd5,Rb8,Qa3,Bxb2,Qxc5,Bxa1,Rxa1,e6,Ne3,Qf6,Rd1,Qxf4,Be2,Rfc8,Ng2,Qc7,Qg5,Rb2,Bd3,Rxa2,Qf6,Qb6,Ne3,Nd4,Bf1,Qb2,Ng4,Nc6', 'Nh6+,Kf8,Qxf7#', 'https://lichess.org/training/qqsj2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qqtGt', 'Rapid', 'Leitz5038', 2037, 'byohannan', 1904, 'e4,d6,d4,Nf6,Nc3,g6,Nge2,Bg7,g3,c6,Bg2,Qc7,O-O,O-O,h3,Nbd7,Kh2,e5,Be3,exd4,Nxd4,b5,a3,Nb6,f4,Re8,Ndxb5,cxb5,Nxb5,Qe7,Bxb6,axb6,Nxd6,Rd8,e5,Ba6,exf6,Qxf6,Bxa8,Bxf1,Ne4,Rxd1', 'Nxf6+,Bxf6,Rxd1', 'https://lichess.org/training/qqtGt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQUPz', 'Rapid', 'S123sumit', 1807, 'lucasyzy63172', 1902, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bd6,d4,exd4,O-O,Qe7,cxd4,b6,Bg5,Nf6,e5,Bxe5,dxe5,Nxe5,Nxe5,Qxe5,Re1,Ne4,Nc3,f5,Qc2,Bb7,f3,Qc5+,Kh1,Qxc4,fxe4,fxe4,Qb2,Rf8,Rac1,Qd4,Nxe4,Qxb2', 'Nd6#', 'https://lichess.org/training/qQUPz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQURi', 'Rapid', 'SedmoyRazryad', 1840, 'fada-du-sud', 1792, 'e4,e5,d4,exd4,Nf3,Nc6,c3,d5,exd5,Qxd5,cxd4,Bg4,Be2,O-O-O,Be3,Nf6,Nc3,Bb4,O-O,Bxc3,bxc3,Ne4,c4,Qh5,d5,Nc3,Qc2,Nxe2+,Qxe2,Ne5,Bf4,Nxf3+,gxf3,Bxf3,Qe5,Qg6+,Bg3,Rd7,Rfe1,f6,Qf4,Bg4,Re4,Bf5,Re3,h5,h4,Qg4,Rae1,g5', 'Re8+,Rxe8,Rxe8+,Rd8,Qxc7#', 'https://lichess.org/training/qQURi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qqUvi', 'Blitz', 'UninspiredYoga', 2182, 'whitepawn100', 2170, 'e4,c6,d4,d5,e5,Bf5,h4,Qb6,a4,a5,Ra3,h5,Rb3,Qc7,Bd3,Bxd3,Qxd3,e6,Nf3,Ne7,Bg5,Nf5,O-O,Nd7,Nbd2,Nb6,Ra1,g6,Bf6,Bg7,Bxg7,Nxg7,Nf1,Nf5,Ne3,Nc4,Nxc4,dxc4,Qxc4,Rd8,Rd3,Qb6,Rb1,Rd5,c3,O-O,b4,Rb8,Qa2,Qd8,b5,c5,c4,Rd7,d5,Nxh4,Nxh4,Qxh4,b6,Qe4,Qb3,exd5,Rxd5,Rxd5,cxd5,Qxe5,Rd1,Rd8,Qc4,Rd6,Qxc5,Qf6,Qc8+,Kg7,Qxb7,Rxb6,Qd7,Rd6,Qb5,Qd8,Rd2,Kh7,Qb7,Rd7,Qc6', 'Rc7,Qa6,Rc1+,Qf1,Rxf1+', 'https://lichess.org/training/qqUvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qQuX3', 'Blitz', 'GM crackcubano', 2663, 'FM VladislavKrasikov_FM', 2649, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nbd7,Bd3,h6,Bh4,g5,fxg5,Ne5,Qe2,Nfg4,Nf3,Nxf3,gxf3,hxg5,Bg3,Ne5,Bxe5,dxe5,h4,gxh4,Qg2,Bf6,Be2,Bd7,Rd3,Bc6,Qh3,Rd8,Kb1,Ke7,a3,Rhg8,Rxd8,Qxd8,Bd3,Rg3,Qf1,Qb6,Ne2,Rg8,f4,exf4,c3,e5,Bc2,Qe3,Rh3,Qd2', 'Rd3,Qxd3,Bxd3', 'https://lichess.org/training/qQuX3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QqV8K', 'Blitz', 'CM Kingscrusher-YouTube', 2256, 'Gambito22', 1796, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Bd7,Ng3,Nf6,Nf3,Be7,Bd3,O-O,c3,Bc6,Qe2,Nbd7,Ne5,Bxg2,Rg1,Bh3,Nh5,Nxe5,Rxg7+,Kh8,dxe5,Nxh5,Qxh5', 'Qxd3,Rxh7+,Qxh7', 'https://lichess.org/training/QqV8K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QqX3y', 'Rapid', 'Tetomon', 1994, 'QazahMan', 1936, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Nxc6,bxc6,Qd2,Be7,O-O-O,d5,exd5,cxd5,Bd3,O-O,Bd4,Bd7,g4,Bb4,g5,Ne4,Bxe4,dxe4,Bxg7,Kxg7,Qxd7,Qxg5+,Kb1,Kh8', 'Qd4+,Qg7,Qxb4', 'https://lichess.org/training/QqX3y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qqYgi', 'Rapid', 'eloquoi12', 1720, 'tibrah', 1663, 'e4,e5,Nf3,d6,Bc4,Be7,d4,Nd7,dxe5,dxe5,O-O,h6,Nc3,c6,Be3,Qc7,Qe2,Ngf6,Rad1,b6,Rd2,a6,Rfd1,Ng4,h3,Nxe3,Qxe3,Bc5,Qe2,O-O,a3,Nf6,b4,Be7,Qe3,Nh5,Na4,c5,bxc5,b5,Bd5,Rb8,Nb6,Bxc5,Qc3,Qxb6,Nxe5,Nf6,Nc6,Rb7,Ne5,Rc7,Bxf7+,Rfxf7,Rd8+,Rf8,Qb3+,Kh7,Rxf8,Bxf8,Qg3,Bc5,Qg6+,Kg8,Rd8+,Bf8,Qg3,Rxc2,Ng6,Rc1+,Kh2,Nxe4', 'Rxf8+,Kh7,Rh8#', 'https://lichess.org/training/qqYgi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QqynL', 'Blitz', 'garyowen', 1838, 'lapachehug', 1773, 'e4,e6,d4,d5,Nc3,a6,Bd3,h6,f4,Nf6,e5,Ng8,Nf3,c5,Be3,c4,Be2,Ne7,g4,h5,Qd2,hxg4,Ng5,Nf5,Bxg4,g6,O-O-O,b5,Bxf5,gxf5,Qg2,Qa5,Kb1,b4,Ne2,b3,a3,bxc2+,Kxc2,Qa4+,Kb1,Bxa3,bxa3,Qxa3,Bc1,Qb3+,Bb2,Nc6,Nc1,Qa4,Nxf7,Kxf7,Rhg1,Rf8,Qg7+,Ke8,Qg6+,Rf7,Qg8+,Rf8,Qg6+,Rf7,Rg2,Ra7,Rdg1,Nb4,Qg8+,Rf8,Qxf8+,Kxf8', 'Rg8+,Ke7,R1g7#', 'https://lichess.org/training/QqynL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QqYZD', 'Rapid', 'cplyakap1905', 1944, 'nikrik', 1823, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bd3,Nc6,Nxc6,bxc6,O-O,Be7,Re1,e5,Bc4,O-O,Bg5,a5,Bxf6,Bxf6,Re3,Ba6,Bb3,g6,Rg3,Bg7,Qg4,Qc7,Rh3,Bc8,Qh4,Bxh3,Qxh3,Rad8,Re1,Qd7,Qh4,Kh8,Re3,f5,Rh3,Bf6,Qh6,fxe4,Qxg6,Qg7,Qxe4,d5,Qf3,e4,Qh5,Rg8,g3,Bxc3,bxc3,Ra8,a4,Rae8,c4,Rd8,cxd5,cxd5,Bxd5,Rge8,Bf7,Re5,Qh4,Rd1+,Kg2,Qxf7,Qg4,Rd8,Rh6,Rde8,Qh4,e3,Rf6,Qb7+,f3,e2,Qf4,R5e7', 'Rf8+,Kg7,Qf6#', 'https://lichess.org/training/QqYZD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qqZbR', 'Rapid', 'Sanaguas', 1823, 'herr-bauer', 1737, 'd4,Nf6,Bf4,b6,e3,Bb7,Nf3,e6,Be2,c5,c3,cxd4,cxd4,Bb4+,Nbd2,O-O,O-O,Nc6,a3,Bxd2,Nxd2,Rc8,Qb3,Ne7,Rfc1,Ng6,Bd6,Bd5,Bc4,Re8,Bxd5,Nxd5,Rc2,Rxc2,Qxc2,Qf6,e4,Ndf4,e5,Qg5,g3,Nh4,Kf1,Qg4,gxf4,Qg2+,Ke2,Qg4+,Ke1', 'Qg1+,Ke2,Qxa1,Qb1,Qxb1', 'https://lichess.org/training/qqZbR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QQzQU', 'Rapid', 'uditkamdar', 2279, 'hibody2004', 2154, 'e4,c5,Nc3,e6,Nge2,a6,g3,Qc7,Bg2,Nf6,d4,cxd4,Nxd4,Be7,O-O,d6,Re1,O-O,Be3,Bd7,a4,Nc6,Nb3,Ne5,a5,Nc4,Bc1,Bc6,Qd3,Ne5,Qe2,Ned7,Be3,Rac8,Red1,Rfd8,Nd4,d5,Nxc6,Qxc6,exd5,Nxd5,Rxd5,exd5,Nxd5,Qe6,Nxe7+,Qxe7,Bxb7,Rb8,Qxa6,Nc5,Bxc5,Qxc5,Qc6,Qb4,a6,Qxb2,Re1,Rf8,c4,Qd2,Rb1,Qa2,Qb5,Rbe8,Qb3', 'Re1+,Kg2,Qxb1,Qxb1,Rxb1', 'https://lichess.org/training/QQzQU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QQzUd', 'Rapid', 'DaysKnight', 1953, 'stopairiron', 1903, 'b3,f6,c4,e5,Bb2,Bc5,Nf3,d5,d4,exd4,Nxd4,dxc4,bxc4,Nc6,e3,Nxd4,exd4,Bd6,Bd3,Ne7,O-O,O-O,Nd2,c5,d5,Nf5,Rc1,Nd4,Re1,Qb6,Ba1,Bd7,Nb3,Ba4,Rb1,Bxb3,axb3,Qb4,Bxd4,cxd4,Qh5,g6,Qh3,Rfe8,Re6,Be5,Bc2,Qd2,Be4,f5,Bf3,Rxe6,dxe6,Re8,Qh4,Rxe6', 'Bd5,Kg7,Bxe6', 'https://lichess.org/training/QQzUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qR17O', 'Bullet', 'bneamen', 2075, 'MetalAvenger', 2112, 'e4,c6,d4,d5,exd5,cxd5,Be3,Nf6,Bd3,Bg4,Ne2,Nc6,f3,Bh5,c3,e6,O-O,Bd6,Nd2,Qc7,g3,Bg6,Qc2,Nb4,cxb4,Qxc2,Bxc2,Bxc2,a3,Bd3,Rf2,Kd7,Nc3,a6,Nb3,b6,Nd2,h5,Re1,h4,g4,h3,Nf1,a5,bxa5,bxa5,Na4,Rab8,Nc5+,Bxc5,dxc5,e5,Bd2,Rxb2,Bxa5,Rxf2,Kxf2,e4,Ne3,Kc6,Bc3,exf3,Kxf3,Ra8,Bxf6,gxf6,Kg3,Rxa3,Kxh3,Kxc5,Kg3,Kd4,Kf4,Be4,h4,Ra2,Nf5+,Kc4,Nd6+,Kd4,Nxe4,dxe4,Rxe4+,Kd5,Re3,Rf2+,Kg3,Rf1,h5,f5,g5,f4+,Kg2,fxe3', 'Kxf1,Ke6,h6', 'https://lichess.org/training/qR17O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qr18K', 'Rapid', 'MARIOBB', 1765, 'AguaGelada', 1836, 'e3,d5,d3,c5,g3,Nc6,Bg2,Nf6,a3,e6,h3,Bd6,b3,Qc7,Bb2,Bd7,Nd2,Be7,f4,O-O-O,c3,e5,b4,exf4,gxf4,Rhe8,b5,Nb8,a4,Bd6,Ne2,Rxe3,O-O,Rde8,Rf2,Bf5,d4,Bd3,Bf3,Bxe2,Bxe2,Bxf4,Nf3,Qd7,Bc1,Qxh3,Bxe3,Bxe3,Qf1,Bxf2+,Qxf2,Ne4,Qg2,Qh6,dxc5,Re6,Kf1,Rg6,Qh2,Nd2+,Nxd2,Qxd2', 'Bg4+,Rxg4,Qxd2', 'https://lichess.org/training/Qr18K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qr1nA', 'Rapid', 'Beginner_Dummy', 1902, 'FlippyT', 1863, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,dxc5,e5,Bg3,a5,Bb5,Qc7,Bh4,Be6,Nf3,Bxc5,O-O,O-O,Bxf6,gxf6,h3,Kh8,Nh2,Rg8,Be2,Bxh3,Bf3,e4,Kh1,Bd6,Ng4,exf3,gxh3,f5,Nf6,Rg6,Nxd5,Rag8,Qxf3,Ne5,Qxf5,Qc4,Rd1,Qe2,Na3,Nf3,Nf4,Qxf2,Nxg6+,Rxg6,Rd2,Rg1+,Rxg1', 'Qxg1#', 'https://lichess.org/training/Qr1nA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qR2O1', 'Blitz', 'FM melksham', 2403, 'WoodchuckCoodchuck', 2284, 'c4,c5,Nc3,Nc6,Nf3,g6,e3,Nf6,d4,cxd4,exd4,d5,cxd5,Nxd5,Qb3,e6,Bb5,Bg7,Nxd5,Qxd5,Qxd5,exd5,Ne5,Bd7,Nxd7,Kxd7,Be3,Rhe8,Kd2,a6,Bxc6+,Kxc6,Rac1+,Kd7,Rc5,Ke6,Rhc1,Bf8,Rc7,Re7,Kd3,Rae8,f3,Rxc7,Rxc7,Re7,Rxe7+,Bxe7,b3,Bd6,h3,f5,g4,h5,gxh5,gxh5,Bg5,Kd7,Bf6,Ke6,Bg5,b5,Bd8,Bf4,Bh4,Kd6,Bf6,Bg3,Bg5,Ke6,Be3,Kf6,Bd2,f4,Ba5,Kf5,Bd8,Be1,h4,Bb4,Bg5,Bd6,Ke2,Ke6,Kd3,Kd7,Kc3,Kc6,b4,Kd7,a3,Ke6,Kd3,Kf5,Kc3,Bf8,Kd3,Bd6,Kc3,Bc7,Kd3,a5,Kc3,axb4+,Kxb4,Bb6', 'Kxb5,Bxd4,a4', 'https://lichess.org/training/qR2O1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qr5EQ', 'Rapid', 'Leshreku', 1853, 'lixeza', 1852, 'e4,c5,Nf3,Nc6,c3,d5,Bb5,a6,Ba4,b5,exd5,Qxd5,Bc2,Bg4,O-O,Bxf3,Qxf3,Qxf3,gxf3,Nf6,d3,e6,Bg5,Be7,d4,cxd4,Bxf6,Bxf6,Be4,Rc8,Rd1,dxc3,Nxc3,Bxc3,bxc3,O-O,Rd6,Ne5,Rxa6,Rxc3,f4,Nc4,Bc6,b4,Ra7,Rb8,f5,exf5,Bd5,Nd6,Rd7,Ne4,Rxf7,Kh8,Rxf5,Nf6,Bb3,Ra8,Rb5', 'Rxb3,axb3,Rxa1+', 'https://lichess.org/training/Qr5EQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qr64P', 'Rapid', 'juiceisloose', 1695, 'SebalfoRojo', 1621, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,Qd2,Be7,O-O-O,O-O,Kb1,Nbd7,Nd5,Nxe4,Nxe7+,Qxe7,Qd3,d5,f3,Nef6,h4,d4,Bg5,a5,Be2,a4,Nd2,a3,b3,Qb4,Ne4,Bf5', 'Nxf6+,Nxf6,Qxf5', 'https://lichess.org/training/Qr64P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qR73I', 'Blitz', 'lazababic60', 1952, 'HTiger', 1962, 'd4,Nf6,Nf3,d5,c4,c6,Nc3,g6,Bf4,Bg7,e3,O-O,Bd3,Bg4,h3,Bxf3,Qxf3,dxc4,Bxc4,Nbd7,e4,Nb6,Qd3,Nh5,Be3,Qc7,O-O,Rad8,a3,Nxc4,Qxc4,b5,Qe2,Bxd4,Bxd4,Rxd4,Rad1,Rfd8,e5,Rxd1,Rxd1,Rxd1+,Nxd1,Nf4,Qe3,Nd5,Qe4,a5,f4,Nb6,Nf2,Nc4,Qd3,Nxb2,Qd4,Nc4,Kh1,Nxa3,Ne4,Nc4,Nc5,a4,e6,f6,h4,a3,h5,a2,g4,Qd6,Qa1,Qd5+,Kh2,Qxc5,Qxa2,Qd4,Qa8+,Kg7', 'h6+,Kxh6,Qf8#', 'https://lichess.org/training/qR73I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qr9Mw', 'Rapid', 'horlar', 1655, 'GregPac', 1833, 'e4,e5,Bc4,Nc6,Nc3,Nf6,Nf3,Nxe4,Qe2,Nxc3,dxc3,Qf6,Bg5,Qg6,O-O-O,e4,Bh4,d6,Nd4,Qh6+,Kb1,Qxh4,Nxc6,bxc6,g3,Qg5,Qxe4+,Be7,Qxc6+,Kf8,Qxa8,Qf5,g4,Qxg4,h3,Qf5,Bd3,Qd7,Rhe1,g6,Qf3,Kg7,Re4,Bb7,Qe3,Bxe4,Bxe4,Re8,h4,Bf6,h5,c6,h6+,Kg8,Qf4,Bh8,Bd3,Rb8,b3,Bxc3,Be4,Be5', 'Qxe5,dxe5,Rxd7', 'https://lichess.org/training/Qr9Mw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrACq', 'Blitz', 'baba_john', 1558, 'Scacchinello', 1580, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,c6,d3,Nf6,Bd2,Qc7,O-O,e6,a4,a6,Ne4,Nbd7,Nxf6+,Nxf6,Bg5,Be7,c4,O-O,Rc1,h6,Bxf6,Bxf6,b4,b5,cxb5,axb5,axb5,Rac8,Rxc6,Qb7,Rxc8,Rxc8,d4,Bxf3,gxf3,Be7,Qb3,Qb6,d5,exd5,Qxd5,Rd8,Qe4,Bf8,Bd3,g6,Kh1,Kg7,Rg1,Qxf2,Rxg6+,fxg6', 'Qxg6+,Kh8,Qh7#', 'https://lichess.org/training/QrACq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qRayh', 'Classical', 'bxscvv', 1700, 'alexsang', 1702, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,c6,e3,O-O,Bd3,Nbd7,Qc2,Re8,O-O,Rf8,Rac1,h6,Bh4,Re8,Rfe1,Ng4,Bxe7,Qxe7,h3,Ngf6,c5,e5,Bf5,e4,Nh2,Nf8,Bxc8,Raxc8,Ne2,Ng6,Ng3,Qd7,Qe2,b6,Rf1,bxc5,Rxc5,Rb8,b3,Rb6,Rfc1,Ne7,Qe1,Qb7,Qa5,Nd7,R5c3', 'Ra6,Qxa6,Qxa6', 'https://lichess.org/training/qRayh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrayY', 'Blitz', 'aaatchoum', 2368, 'Prof-Church', 2388, 'e4,c5,Nf3,d6,Bb5+,Nd7,d4,cxd4,Qxd4,a6,Bxd7+,Bxd7,Nc3,e5,Qd3,h6,Nd2,Nf6,Nc4,Bc6,Ne3,Qa5,Bd2,Qc5,O-O,b5,b4,Qd4,Ned5,Qxd3,cxd3,Nxd5,Nxd5,Bxd5,exd5,Kd7,a4,Be7,Rfc1,Rhc8,Rxc8,Rxc8,Kf1,Rc2,Ke1,Bd8,axb5,axb5,Ra7+,Bc7', 'Kd1,Rb2,Kc1,Rxd2,Kxd2', 'https://lichess.org/training/QrayY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qRcIH', 'Classical', 'ascoliloko', 1966, 'NLance', 1934, 'Nf3,d5,g3,Nf6,Bg2,g6,O-O,Bg7,d3,c5,Nbd2,O-O,e4,d4,a4,Nc6,Nc4,Be6,Nfd2,a6,a5,Nd7,f4,b5,axb6,Nxb6,Nxb6,Qxb6,f5,Bc8,Nc4,Qb5,Bg5,f6,Bd2,e5,Qg4,Ra7,h4,Kh8,b3,Rg8,Qf3,gxf5,exf5,Nb4,Bxb4,Qxb4,Nd6,Bh6,Qc6,Rxg3,Nxc8,Rag7,Rf2', 'Be3,Kh1,Bxf2', 'https://lichess.org/training/qRcIH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QRCRK', 'Rapid', 'ali_noshirvani', 1615, 'benmakhlouf01', 1902, 'd4,d5,Bf4,c5,dxc5,Nc6,h3,e5,Bg3,Bxc5,e3,Nf6,Bb5,Ne4,Bh2,Qf6,Nf3,Ng5,Bxc6+,bxc6,Bxe5', 'Nxf3+,Qxf3,Qxe5', 'https://lichess.org/training/QRCRK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qrdJF', 'Rapid', 'dr_ghassan', 1839, 'hegeweko', 1861, 'd4,d5,Nf3,e6,c4,c6,e3,f5,Nc3,Nf6,cxd5,cxd5,Bd3,Be7,O-O,O-O,Ne5,Nc6,f4,Nxe5,fxe5,Ng4,h3,Nh6,Qh5,Bg5,Rf3', 'g6,Qxg5,Qxg5', 'https://lichess.org/training/qrdJF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QRDJL', 'Classical', 'theking1111', 1864, 'morte1111', 1811, 'e4,c6,d4,d5,Nc3,e6,Bd3,Bb4,Bd2,h6,a3,Bxc3,Bxc3,Qg5,Qf3,Ne7,Nh3,Qh4,Bb4,O-O,Bxe7,Qxe7,O-O,e5,dxe5,Bxh3,Qxh3,Qxe5,exd5,Qxb2,dxc6,Nxc6,Rab1,Qxa3', 'Bh7+,Kxh7,Qxa3', 'https://lichess.org/training/QRDJL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qREa2', 'Classical', 'NEXXEF', 2029, 'Silent_Wolf8', 1992, 'c4,Nf6,Nc3,d6,g3,e5,Bg2,Be7,e3,Nbd7,d4,c6,Nge2,O-O,O-O,a6,a4,Qc7,f3,Rb8,e4,b5,axb5,axb5,cxb5,cxb5,Be3,b4,Na4,Ba6,Rc1,Qa5,b3,Rfc8,Qd2,Bb5,Ra1,Qd8,Rfc1,Nb6,Bh3,Rc7,d5,Bxa4,Bxb6', 'Rxc1+,Nxc1,Qxb6+', 'https://lichess.org/training/qREa2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qrFbD', 'Rapid', 'edoardo18', 2088, 'Piotr2200', 2101, 'e4,c5,Nf3,e6,b3,Nc6,Bb2,d6,d4,cxd4,Nxd4,Nxd4,Bxd4,Nf6,Nd2,Be7,Bd3,e5,Be3,O-O,O-O,Be6,f4,exf4,Rxf4,Nd7,Qf3,Bg5,Rf1,Ne5,Qg3,Bxf4,Rxf4,Nxd3,cxd3,Rc8,Rh4,g6,Qf4,Rc1+,Nf1,Rxf1+,Kxf1,f5,Ke2,fxe4,Qxe4,Qf6,Rf4,Bf5,Qd5+,Qf7,Qxd6,Re8,Kd2,Qe7,Qxe7,Rxe7,Bxa7,Rd7,d4,b5,Bc5,h5,g3,Rd8,Kc3,Ra8,a3,Rb8,Kb4,Kf7,a4,bxa4+,Kxa4,Ke6,b4,Kd5,Kb3,Rb7,Rf3,Rf7,Re3,Be4,Re2,Rb7,Ra2,Bf3,Ra5,Bd1+,Kc3,Kc6,Ra6+,Kd5,Rxg6,Rf7,Kd2,Bg4,Kd3', 'Bf5+,Ke2,Bxg6', 'https://lichess.org/training/qrFbD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qrfem', 'Rapid', 'Cedric_O', 1971, 'znk90', 1816, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Bg5,c6,Qd2,e5,Nge2,Re8,d5,cxd5,cxd5,Nbd7,Ng3,b6,Bb5,Bb7,h4,a6,Bc6,Bxc6,dxc6,Nc5,Nd5,Re6,h5,Rc8,hxg6,fxg6,Nxf6+,Bxf6,Bxf6,Rxf6,Qh6,Rf7,b4,Nd3+,Kd2,Nxb4,Nh5,gxh5,Rxh5,Nxc6,Rg5+,Kh8,Rh1,Qd7,Rgh5,Rc7,Qg5,Rg7,Qf6,Qe7', 'Rxh7+,Kg8,Rh8#', 'https://lichess.org/training/Qrfem');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qrhMa', 'Rapid', 'ViktorKarmanov', 2019, 'Cureton', 1950, 'e4,c5,Nc3,Nc6,g3,e5,Bg2,Nf6,d3,g6,Be3,d6,Qd2,h6,f3,Be6,Nge2,Qd7,h4,Nd4,g4,Bxg4,fxg4,Nxg4,O-O-O,Nxe3,Qxe3,h5,Nd5,Qd8,Nec3', 'Bh6,Qxh6,Rxh6', 'https://lichess.org/training/qrhMa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrHvX', 'Bullet', 'Maxime95', 1691, 'viejoestandarte', 1595, 'b3,Nf6,Bb2,e6,a3,g6,e3,Bg7,d4,O-O,Nf3,d5,Nbd2,Nbd7,c4,c5,cxd5,exd5,Rc1,cxd4,Nxd4,a6,N2f3,b5,Be2,Bb7,Qc2,Rc8,Qd2,Re8,O-O,Ne4,Qd3,Ndc5,Qb1,Bxd4,Nxd4,Nd2,Qa1,Nxf1,Bxf1,Ne4,Nf3,Qa5,Bh8,f6,Rxc8,Rxc8,Bxf6,Nxf6,Qxf6,Qc7,Ne5,Qg7', 'Qe6+,Kf8,Nd7+,Qxd7,Qxd7', 'https://lichess.org/training/QrHvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qRILo', 'Rapid', 'Uzqui', 1735, 'Knight_of_Cups', 1844, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bb4,O-O,Bxc3,dxc3,Nxe4,Qd5,Nd6,Bxc6,dxc6,Qxe5+,Be6,Rd1,O-O,c4,Qe8,Bf4,Nxc4,Qxc7,Nxb2,Rdb1,Nc4,Rxb7,Rc8,Qe7,Qxe7,Rxe7,Bd5,Rxa7,Bxf3,gxf3,Ra8,Rc7,Ra6,a4,Re8,Rb7,g6,Kg2,Rea8,Rb4,Nb6,a5,Rxa5', 'Rxa5,Rxa5,Rxb6', 'https://lichess.org/training/qRILo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrJGW', 'Rapid', 'CAAnirban', 1644, 'Bikorl', 1610, 'd4,e5,dxe5,Bc5,e3,Nc6,a3,Nxe5,Nc3,c6,Bd2,d5,Qh5,Qe7,Qd1,Nf6,h3,Be6,Nf3,Nc4,Bc1,O-O-O,b3,d4,exd4,Bxd4,Nxd4,Ne5,Bf4,Qc5,Nce2,Rxd4,Nxd4,Rd8,c3', 'Qxc3+,Bd2,Qxd4', 'https://lichess.org/training/QrJGW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qrJXF', 'Rapid', 'Loki87', 1941, 'mavc10', 1887, 'd4,g6,c4,Bg7,Nc3,d6,e4,Nc6,Nge2,Bg4,f3,Bd7,Be3,e6,Qc2,Nge7,Rd1,O-O,Nf4,Bh6,Nxe6,fxe6,Bxh6,Rf7,Be2,Nb4,Qb1,Nec6,a3,Qh4+,g3,Qxh6,axb4,Nxb4,O-O,Qe3+,Kg2,h5,Qc1,Qxc1,Rxc1,Nc6,d5,Nd4,Rcd1,e5,f4,exf4,Rxd4,fxg3,Rxf7,Kxf7,hxg3,Kg7,Nd1,a5,Ne3,a4,Nc2,Kh6,Rd3,b5,cxb5,Bxb5,Re3,Bd7,Rf3,Bg4,Rf2,Bd7,Rf7,Rd8,Na3,c5,dxc6,Bxc6,Bd3,Rb8,Rf2,Rb3,Bc2,Rxb2,Bb1,Rxb1,Nxb1,Bxe4+,Kg1,Bxb1,Rd2,a3,Rxd6,a2,Ra6,Kg5,Kf2,Kf5,Ke3,g5,Ra5+,Kg4,Kf2,Kh3,Ra3,g4,Ra5,h4', 'Rh5,a1=Q,Rxh4#', 'https://lichess.org/training/qrJXF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qrkoz', 'Rapid', 'vicous', 1964, 'zarealeks', 1606, 'e4,b6,d4,Bb7,Bd3,a6,Ne2,d6,O-O,Nd7,c4,Ngf6,Nbc3,e5,d5,Qe7,f4,h6,a4,Nc5,Bc2,exf4,Nxf4,O-O-O,Qd4,Ng4,b4,Qh4,Nh3,Nd7,Bf4,Qe7,a5,Rg8,axb6,cxb6,Na4,g5,Bg3,Bg7,Nxb6+,Kc7,e5,Ngxe5,Nxd7', 'Nf3+,gxf3,Bxd4+', 'https://lichess.org/training/Qrkoz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qrL6n', 'Rapid', 'rolvinschjki', 1743, 'maximilians', 1625, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,Nf6,Bc4,O-O,O-O,c5,d5,e5,dxe6,Bxe6,Bxe6,fxe6,e5,dxe5,Nxe5,Nbd7,Nxd7,Qxd7,Bg5,Nd5,Ne4,b6,c4,Nf6', 'Nxf6+,Bxf6,Qxd7', 'https://lichess.org/training/qrL6n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qrlws', 'Rapid', 'ChiragAyalani', 1706, 'forkingKt', 1775, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nb3,Be6,O-O,Be7,Re1,Nbd7,Bd2,Rc8,Qe2,O-O,Rad1,b5,a3,Nc5,Nxc5,Rxc5,b4,Rc6,h3,Qc7,Nd5,Nxd5,exd5,Bxd5,Qh5,g6,Qh6,Bc4,Bg5,Qd8,Bxe7,Qxe7,Re2,Bxd3,Rxd3,Rfc8,Re4,Rxc2,Rh4,Qf6,Qxh7+,Kf8,Rf3,Qg7,Qh8+,Qxh8,Rxh8+,Ke7,Rh7,Rf8,g4,Ke6,g5,d5,Rf6+,Ke7,Rxa6,Rc3,Ra5,Ke6,Rxb5,Rxa3,Rb6+,Kf5,h4,Kg4,Rb5,Rd3,Kg2,e4,Rc5,Rd2,Rc3,d4,Rc7,e3,Rcxf7,Rxf7,Rxf7,Kxh4,b5,e2,Re7,d3,b6,Rd1,b7,e1=Q', 'Rxe1,Rxe1,b8=Q', 'https://lichess.org/training/Qrlws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qrm3I', 'Blitz', 'Victor067', 1783, 'gercha', 1644, 'd4,d5,h3,Nf6,Nf3,c5,Bf4,Nc6,e3,Bf5,c3,cxd4,exd4,e6,Nh4,Bg6,Nxg6,hxg6,Nd2,Bd6,Bxd6,Qxd6,Qb3,O-O-O,Qa4,a6,Nb3,g5,Nc5,g4,Qb3,b5,Nxa6,Nxd4,cxd4,Qxa6,Bxb5,Qa5+,Ke2,Ne4,Rhc1+,Kb8,f3,Qd2+,Kf1,Ng3+,Kg1,Qe3+,Kh2', 'Rxh3+,gxh3,Qf2#', 'https://lichess.org/training/qrm3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QRNd5', 'Rapid', 'Alfetore10', 1683, 'BuS1408', 1664, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Nf6,Nxc6,bxc6,Bd3,O-O,Qc2,Bxf2+,Kxf2,Ng4+,Ke2,Qh4,h3,Qf2+,Kd1,Ne3+,Bxe3,Qxe3,Na3,d5,Re1,Qg5,exd5,Qxd5,c4,Qh5+,Be2', 'Rd8+,Kc1,Qg5+,Kb1,Bf5', 'https://lichess.org/training/QRNd5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrNxJ', 'Blitz', 'noor23', 1610, 'Aykutraus-Rex', 1612, 'e4,f5,exf5,e5,Qh5+,g6,fxg6,Nf6,Qxe5+,Qe7,Qxe7+,Bxe7,d3,hxg6,Bg5,Rh5,Bxf6,Bxf6,Be2,Re5,Nf3,Re7,c3,d6,Kd2,Bf5,Na3,Nc6,Nb5,O-O-O,h3,a6,Nbd4,Nxd4,Nxd4,Bd7,Rhe1,Rde8,g4,Bg5+,Kd1,Ba4+,b3,Bd7,Kc2,c5,Nf3,Bh6,g5', 'Rxe2+,Rxe2,Rxe2+,Kd1,Rxf2,gxh6,Rxf3', 'https://lichess.org/training/QrNxJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrNYM', 'Rapid', 'pgrm2', 1804, 'grecoattack', 1850, 'e4,c5,d3,d6,Be2,Nf6,f4,h5,Nf3,Ng4,O-O,e6,Nc3,Nc6,Ne1,Nd4,Bf3,Qh4,h3,e5,f5,Nxf3+,Nxf3,Qd8,hxg4,hxg4,Ne1,Qh4,Be3,g3,Rf3', 'Qh1#', 'https://lichess.org/training/QrNYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qRoBo', 'Blitz', 'Jamuna977', 2079, 'MasterBoco', 2307, 'e4,c6,f4,d5,exd5,cxd5,Nf3,Nf6,d4,g6,c3,Bg7,Bd3,O-O,O-O,Re8,Be3,Ne4,Nbd2,f5,Ne5,Bxe5,fxe5,Nd7,Nf3,e6,Bh6,Qb6,Qc2,Re7,Kh1,Rf7,Bxe4,dxe4,Ng5,Re7,Rad1,Nb8,c4,Nc6,Qc3,Nd8,d5,Nf7,Nxf7,Rxf7,d6,Bd7,Bg5,Rc8,b3,Qc5,Bf6,b5,Rd4,a6,Rfd1,Rc6,Qa5,Rf8,b4,Qb6,Qxb6,Rxb6,c5,Rc6,a3,Ra8,g4,a5,gxf5,exf5,e6,Bxe6,d7,Bxd7,Rxd7,Rxf6,Rd8+,Rxd8,Rxd8+,Kg7,bxa5,Ra6,Rd7+,Kf6', 'Rd6+,Rxd6,cxd6,Ke6,a6,Kxd6,a7', 'https://lichess.org/training/qRoBo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrOcA', 'Rapid', 'nantek1955', 1649, 'Hmaiachimitsu', 1780, 'b4,d5,Bb2,e5,e3,Bd6,c4,c6,Nf3,Nd7,c5,Bc7,Nc3,e4,Nd4,Ngf6,d3,O-O,dxe4,Nxe4,Nxe4,dxe4,Qc2,Nf6,g3,Bg4,Be2,Qd7,h3,Bxh3,Rd1,Qc8,Qc3,Be5,Qb3,Be6', 'Nxe6,Qxe6,Qxe6,fxe6,Bxe5', 'https://lichess.org/training/QrOcA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrofB', 'Blitz', 'PatKirk', 1847, 'RabbitsGambit', 1679, 'd4,d5,Nf3,e6,e3,c5,c3,Nc6,Bd3,Nf6,Nbd2,cxd4,exd4,Bd6,O-O,O-O,Re1,a6,Qe2,b5,Ne5,Bxe5,dxe5,Nd7,Nf3,Bb7,Bc2,Qc7,Qd3,g6,Bf4,Nf6,Ng5,Nh5,Qh3,f6,Qxe6+,Kh8,exf6,Qxf4,Nh3,Qxf6,Qd7,Rab8,Re2,Nf4,Nxf4,Qxf4,Rae1,Qf7,Qh3,Ne7,Rxe7', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/QrofB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qrOKf', 'Rapid', 'siriusvolf', 1846, 'youssefmosslime', 1824, 'd4,d5,c4,e6,Nf3,Nf6,e3,Bb4+,Nbd2,O-O,a3,Bxd2+,Bxd2,dxc4,Bxc4,a6,O-O,b5,Ba2,Bb7,Bb4,Re8,Qe2,Nc6,Bc3,Nd5,Rad1,Qf6,h3,Nxc3,bxc3,Ne7,e4,Ng6,Nh2,Qh4,Qe3,Bxe4', 'g3,Qe7,Qxe4', 'https://lichess.org/training/qrOKf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qrPwX', 'Blitz', 'FM luiso1961', 2488, 'IM vespillo77', 2533, 'd4,f5,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,b3,d6,Bb2,Qe8,Nbd2,Nc6,Nc4,Ne4,Nfd2,Nxd2,Qxd2,e5,Bxc6,bxc6,dxe5,dxe5,Qa5,e4,Bxg7,Kxg7,Qxc7+,Rf7,Qe5+,Qxe5,Nxe5,Rc7,f4,exf3,exf3,f4,Rad1,Bf5,c4,Re8,gxf4,g5,Kf2,gxf4,Rg1+,Kf8,Nd3,Rf7,Nc5,Rfe7,Rd2,Bg6,Rg5,Re1,Rg4,Rh1,Rxf4+,Kg8,Kg2,Ra1,Ne4,Re5,Rd7,Rxa2+,Kg3,Bxe4,Rxe4,Rxe4,fxe4,h6,e5,Kf8,e6,Re2,Rxa7,Rxe6,Rc7,Re3+,Kf4,Rxb3,Kf5,Rb2,Kf6,Rf2+,Kg6,Rg2+,Kf6,Rxh2', 'Rc8#', 'https://lichess.org/training/qrPwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrR1E', 'Bullet', 'Roldwin', 1595, 'docrahul', 1594, 'e4,e6,d4,b6,f4,Bb7,Bd3,Bb4+,c3,Be7,Be3,f5,d5,exd5,exd5,Bxd5,Bxf5,Bxg2,Qh5+,Kf8,Bd4,Bf6,Nf3,Bxh1,Nbd2,Bxf3,Nxf3,Qe7+,Kf2,Nc6,Re1,Bxd4+,Nxd4,Qf6,Bxd7,Nxd4', 'Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/QrR1E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qRrso', 'Rapid', 'kola09', 1606, 'mustafakurtdere', 1657, 'd4,d5,c4,dxc4,Nf3,Bg4,e4,Bxf3,gxf3,b5,Nc3,c6,b3,cxb3,axb3,e6,Bd2,Nf6,Bg5,h6,Bh4,g5,Bg3,Bg7,e5,Nh5,Be2,a5,Qd2,O-O,Ne4,Nd7,h4,f6,hxg5,fxg5', 'Rxh5', 'https://lichess.org/training/qRrso');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qRs4n', 'Rapid', 'b_p_ghosh', 1885, 'Alexplayer26', 2040, 'e4,c5,Bc4,e6,Nf3,Nc6,c3,a6,O-O,Nf6,e5,Nd5,d4,b5,Bb3,c4,Bc2,Be7,Nbd2,O-O,Ne4,f6,exf6,Nxf6,Nfg5,Nxe4,Nxe4,Bb7,Qh5,g6,Qh6,Qe8,Bg5,Rf7,Rae1,Bxg5,Nxg5,Rg7,Re3,Ne7,g4,Nd5,Rh3,Nf4,Re3,Qe7,Nxh7,Nd5,Rh3', 'Rxh7,Qxg6+,Rg7', 'https://lichess.org/training/qRs4n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QRSVd', 'Rapid', 'juanmijosepas', 1569, 'felipe4012', 1553, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nf6,Nc3,e6,e5,Nd5,Nf3,Bb4,Bd2,Bd7,Nxd5,Bxd2+,Qxd2,exd5,Bd3,O-O,O-O,Bg4,Ng5,h6,f3,Bd7,e6,Bxe6,Nxe6,fxe6,f4,Nc6,f5,Nxd4,fxe6,Nxe6,Rfe1,Nc5,Bc2,Qf6,Qxd5+,Ne6,Rxe6', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/QRSVd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QRteV', 'Rapid', 'ferneycoyote', 1800, 'Death_X', 1793, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,c5,Be3,cxd4,Bxd4,Ne7,Nc3,Nf5,O-O,Be7,a3,O-O,b4,Nc6,Ne2,a6,g4,Nh4,Nxh4,Bxh4,c3,h5,h3,hxg4,hxg4,Qg5,f3,Nxd4,cxd4,f6,exf6,Rxf6,Kg2,Raf8,Ng1,Rf4,Rae1,Bxe1,Rxe1,R8f6,Rf1,Rh6,Nh3,Qh4,Rh1,Rf7,Qe3,Qf6,g5,Rg6,f4,Qf5,Kf3,Rxg5,Nxg5,Qxg5,Rh3,Qf5,Rg3,Qh5+,Kg2,Qf5,Rf3,Rf6,Kf2,Qh5,Ke1,Qh4+,Kd2,Qh2+,Rf2,Qh1,Qg3,Qe4,Kc3,Qe1+,Kb2,Rf7,Qh4,Qe4,Qd8+,Kh7', 'Rh2+,Kg6,Qg5#', 'https://lichess.org/training/QRteV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qRtw4', 'Blitz', 's_vl_vlasov', 1551, 'Azard', 1571, 'g3,d5,Bg2,e6,e3,Nf6,Ne2,Be7,O-O,O-O,b3,Re8,Bb2,Nbd7,d3,c5,c4,Rb8,Nd2,Bd6,Bxf6,Nxf6,cxd5,exd5,Rc1,b6,Nc3,Bf8,Ndb1,d4,Nb5,Qd7,N1a3,a6,exd4,axb5,dxc5,bxc5,d4,cxd4,Bc6,Qh3,Bxe8,Nxe8,Nb1,Bb7,f3,Nf6,Qxd4,h6,Rc7,Ba8,Nd2,Bd6,Qxd6,Ng4,Rf2,Re8,fxg4', 'Re1+,Nf1,Rxf1+,Rxf1,Qg2#', 'https://lichess.org/training/qRtw4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrU5B', 'Blitz', 'Bosak_Max', 1629, 'Xloe50', 1842, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,Be7,d3,O-O,h3,c6,d4,d5,dxe5,dxc4,exf6,Bxf6,O-O,Qc7,Re1,h6,e5,Be7,Qd4,b5,Ne4,Bf5,Nc5,Bxc5,Qxc5,Bxc2,e6,fxe6,Rxe6,Bf5,Re7,Qb6,Qd6,Na6,Rxg7+,Kxg7,Bxh6+,Kg8,Qe7,Qc7,Qg5+,Kh8,Bxf8,Rxf8,Nh4,Qf7,Re1,Bh7,f3,Nb4,Re7,Qf6,Qxf6+,Rxf6,Rxa7,Nd3,Ra8+,Kg7,Ra7+,Kh6,g4,Nxb2,Kg2,c3,Kg3,c2,f4,c1=Q', 'g5+,Kh5,Rxh7+,Rh6,Rxh6#', 'https://lichess.org/training/QrU5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QruTe', 'Rapid', 'jaberalamrain', 1833, 'silviu40', 1843, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,f6,d3,c5,Be3,b6,Qd2,Ne7,Rg1,Nc6,a3,Be6,g4,h6,h4,g5,hxg5,hxg5,O-O-O,Qd7,Rh1,Rxh1,Rxh1,Bxg4,Nh2,Be6,f3,O-O-O,Qg2,Nd4,Bxd4,cxd4,Nb1,Qc6,Ng4,Bxg4,Qxg4+,Kb8,Rh8,Be7,Rh7,Re8,Nd2,b5,Rh6,Qc5,Nb3,Qb6', 'Qd7,Rf8,Qxe7', 'https://lichess.org/training/QruTe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qrVP8', 'Rapid', 'Fente', 2001, 'jobwoge', 2072, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bg5,O-O,e3,Nbd7,Bd3,c5,O-O,a6,Rc1,dxc4,Bxc4,b5,Bd3,c4,Bb1,Bb7,b3,cxb3,axb3,Rc8,Nd2,h6,Bh4,Nd5,Nxd5,Bxd5', 'Rxc8,Qxc8,Bxe7', 'https://lichess.org/training/qrVP8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QRWA1', 'Rapid', 'abelmora', 1991, 'laureles5238', 1942, 'e4,e6,d4,d5,Nd2,c5,Ngf3,Nc6,c3,Nf6,e5,Nd7,Be2,cxd4,cxd4,Be7,O-O,O-O,a3,f6,exf6,Nxf6,Qb3,h6,Re1,a5,Bb5,Bd7,Qd3,Bd6,Ba4,Qc7,h3,Rae8,Bc2,Bf4,Nb3,Bd6,Be3,e5,dxe5,Nxe5,Nxe5,Bxe5,Nd4,Rc8,Rac1,Bf4,Bb1,Qd6,Rxc8,Rxc8,Qd2,Bh2+,Kh1,Be5,Nf3,Re8,Nxe5,Rxe5,Qxa5,Re8,Qd2,Bc6,b4,Qd7,Bc5,d4,Rxe8+,Nxe8,Ba2+,Kh8,Qxd4', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/QRWA1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrwJm', 'Blitz', 'IM onatog', 2502, 'Kush_Kush421d', 2335, 'e4,c5,Nf3,e6,d3,Nc6,g3,d5,Nbd2,Nf6,Bg2,Be7,O-O,O-O,Re1,b5,exd5,exd5,Nb3,Be6,a4,a6,Bg5,Qb6,a5,Qa7,Nh4,Rac8,h3,c4,Nd2,cxd3,cxd3,Nb4,Qf3,Nc2,Nf5,Bxf5,Qxf5,Nxa1,Rxa1,Qd4,Re1,Bb4,Nf3,Qxb2,Re5,Rc1+,Kh2,Bc3', 'Bxf6,Bxe5,Bxe5', 'https://lichess.org/training/QrwJm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrWjx', 'Rapid', 'Khukhrov', 1698, 'hassan007', 1727, 'e4,e6,d4,d6,Nc3,Nf6,f4,Nc6,Nf3,h6,Be3,a6,h4,Ng4,Qd2,Be7,O-O-O,Nxe3,Qxe3,O-O,Bd3,Bf6,e5,Be7,g4,dxe5,dxe5,f6,Bh7+,Kxh7,Rxd8,Rxd8,g5,Kg8,gxh6,gxh6,f5,exf5,Qxh6,Kf7,Rg1,Ke6,exf6,Bxf6,Re1+,Kf7,Qh7+,Kf8,Qg6,Be7,h5,Rd6,Qh7,Bf6,Rg1,Be6,Qxc7,Rad8,Qxb7,Nd4,Ng5,Bxg5+,Rxg5', 'Ne2+,Kb1,Rd1+,Nxd1,Rxd1#', 'https://lichess.org/training/QrWjx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qRwNS', 'Rapid', 'perfectworld', 1893, 'tizzee', 1833, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d6,Bd3,Nbd7,c3,O-O,Nbd2,Re8,Qc2,e5,dxe5,dxe5,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,c6,h4,Qc7,h5,Nc5,Bc4,b5,Be2,e4,h6,Bh8,h7+,Nxh7,O-O-O,Bf5,Rh6,Nxg5,Rdh1,Bg7,R6h5,Qe7,f4,exf3,Qxf5,fxe2,Rxg5,Qxe3,Rxg7+,Kxg7', 'Rh7+,Kg8,Qxf7#', 'https://lichess.org/training/qRwNS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QrXqA', 'Rapid', 'Abbruzi25', 2155, 'Presiden', 2088, 'e4,d6,Nf3,g6,Bc4,Bg7,h4,h6,h5,g5,d4,e6,Nc3,Ne7,Nxg5,hxg5,Bxg5,Nd7,Qg4,Bxd4,O-O-O,Bf6', 'Bxf6,Nxf6,Qg7,Rg8,Qxf6', 'https://lichess.org/training/QrXqA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qRYT3', 'Rapid', 'isidorotegi', 2079, 'Kriss111', 1666, 'd4,d5,c4,dxc4,e3,b5,a4,c6,axb5,cxb5,Qf3,Qc7,Qxa8,a6,Nf3,Bb7,Qa7,e6,Bd2', 'Nc6,Qxa6,Bxa6', 'https://lichess.org/training/qRYT3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qS1wq', 'Rapid', 'vlad3000_vp', 2034, 'Serik-san', 1970, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,Be3,Be7,f4,b5,Bf3,Bb7,a3,O-O,O-O,Nc6,Nxc6,Bxc6,e5,Bxf3,Qxf3,Ne8,g4,f5,exf6,Bxf6,g5,Bxg5,Qg4,Bh6,Qxe6+,Kh8,Bd4,Bxf4,Nd5,Qh4,Nxf4,Rxf4,Rae1,Rxf1+,Kxf1,Qf4+,Kg2,Nf6,Bxf6,gxf6,Rf1,Rg8+', 'Qxg8+,Kxg8,Rxf4', 'https://lichess.org/training/qS1wq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qs2fZ', 'Rapid', 'Matt23', 1929, 'zero-giulio', 2009, 'c4,Nf6,Nf3,d5,e3,dxc4,Bxc4,e6,Nc3,c5,b3,Nc6,Bb2,Be7,a3,a6,Qc2,b5,Nxb5,axb5,Bxb5,Bd7,O-O,O-O,Rfd1,Rb8,Be2,Qb6,b4,cxb4,Ne5,Nxe5,Bxe5,Ra8,a4,Rfc8,Qb3,Bc6,f3,h6,d4,Nd5,Bc4,Qb7,e4,Nc3,Re1,Bxa4,Rxa4,Rxa4,Bxe6,fxe6,Qxe6+,Kh8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/qs2fZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qs306', 'Rapid', 'ArtArtArt1', 1620, 'admeet', 1799, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Qf3,Nf6,Bd3,Be7,Bg5,d6,O-O-O,Nc6,Nb3,O-O,h4,Rb8,a3,b5,Rhe1,b4,axb4,Nxb4,Qe2,a5,e5,Nxd3+,Rxd3,dxe5,Qxe5,Bd6,Qxa5,Qe7,Nd5,Qd8,Qxd8,Rxd8,Bxf6,gxf6,Nxf6+,Kg7,Ne4,Bf4+,Kb1', 'Rxd3,cxd3,Rxb3', 'https://lichess.org/training/Qs306');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QS3Rr', 'Rapid', 'chesspuzzle07', 1658, 'santoshi', 1686, 'd4,d5,c4,Nf6,e3,g6,Nc3,Bg7,Nf3,dxc4,Bxc4,O-O,O-O,a6,a4,Nc6,b4,Nxb4,Ba3,a5,Rb1,Re8,Re1,c6,Bxb4,axb4,Rxb4,Bf8,Rb1,e6,Ng5,Nd5,Nge4,Qa5,Qc2,f5,Bxd5,fxe4,Bxe4,Bg7,h3,e5,d5,Kh8,d6,Rd8,Red1,Rb8,Bxc6,e4,Bb5,Bxc3,Qxe4,Bf5,Qe7,Bxb1,Rxb1,Bb4,Qe5+,Kg8,Qe6+,Kg7,Qe7+,Kh6,Qh4+,Kg7,Qd4+,Kh6,Rxb4,Rbc8,d7,Rc1+,Kh2,Qc7+,g3,Rc2,Kg2,b6,e4,Rc3,Rb1,Rf8,Rd1,Rxf2+,Kxf2,Qxg3+,Ke2,Qg2+,Qf2', 'Rc2+,Rd2,Rxd2+,Kxd2,Qxf2+', 'https://lichess.org/training/QS3Rr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qs4z5', 'Classical', 'RabbiGambit', 1850, 'ThomasE', 1873, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be7,O-O,O-O,h3,h6,Re1,Re8,c3,c6,Nbd2,Be6,Nb3,b5,Bf4,a5,a4,b4,Qc2,Nh5,Bh2,Bd6,Bxd6,Qxd6,Nc5,Nf4,Bf5,Nd7,Bxe6,Nxe6,Nxe6,Rxe6,Rxe6,Qxe6,Re1,Qd6,cxb4,axb4,b3,c5,dxc5,Nxc5,Nd4,Ne4,Nb5,Qc5,Qxc5,Nxc5,Nd4,Rc8,Re5,Rd8,Kf1,Nd3,Re3,Nc5,Nc6,Rd7,Nxb4,Rb7,Nxd5,Nxb3,Nc3,Nd2+,Ke2,Rb2,Kd3,Nb3,Re2', 'Nc1+,Ke3,Nxe2', 'https://lichess.org/training/Qs4z5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QS6fM', 'Rapid', 'phantomofthechboard', 2329, 'mangonel', 2286, 'e4,e6,h4,d5,h5,dxe4,Nc3,Nf6,b3,Nc6,Bb2,b6,Bb5,Bb7,h6,Rg8,Qe2,a6,Bxc6+,Bxc6,hxg7,Bxg7,O-O-O,Qb8,f3,Qb7,Rh4,exf3,Nxf3,O-O-O,Ne5,Be8,g4,Nd5,Nxd5,Rxd5,Rxh7,Kb8,Kb1,f6,Nc4,Bg6,Rxg7,Rxg7,Bxf6,Rgd7,d4,b5,Ne5,Rh7,Nxg6,Rh6,Qd3,e5,g5,Rxd4,gxh6,Rxd3,cxd3,Qf3,Rg1,Qxf6', 'h7,Kb7,h8=Q,Qxh8,Nxh8', 'https://lichess.org/training/QS6fM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QS7iA', 'Rapid', 'EkoRegar', 1822, 'Aawlbt', 2017, 'e4,c5,d3,d6,h3,Nf6,Be2,a6,Nd2,b5,c3,Bb7,Ngf3,e5,Qc2,Nc6,Nf1,Be7,Ng5,O-O,g4,Nxg4,Nxh7,Nxf2,Kxf2,Bh4+,Ke3,Kxh7,Kd2,Qg5+,Kd1,Qg2,Rh2,Qg6,Bg4,Kg8,Rg2,Qf6,Qe2,b4,Ne3,bxc3,bxc3,Ne7,Bf5,Nxf5,Nxf5,d5,Qg4,Bc8,Qxh4,Qxh4,Nxh4,dxe4,dxe4,Bxh3,Rg3,Rfd8+,Kc2,Bd7,Bg5,Ba4+,Kc1', 'Rd1+,Kb2,Rb8+,Ka3,Rxa1', 'https://lichess.org/training/QS7iA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qsa5D', 'Rapid', 'Aquamarin', 1822, 'TheObsorber', 1879, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Ng8,Nf3,d6,d4,dxe5,Qe2,Be7,Qxe5,Nc6,Bb5,Bd7,Qxg7', 'Bf6', 'https://lichess.org/training/Qsa5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qsB8a', 'Rapid', 'dionut2255', 2005, 'wacy', 2040, 'c4,Nc6,Nc3,Nf6,Nf3,h6,d4,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg4,Bb5,e6,h3,Bh5,Qd3,a6,Ba4,b5,Bd1,Bg6,O-O,Be7,a4,Na7,axb5,axb5,Rxa7,Rxa7,Qxb5+,Kf8,Ne5,Ra2,Nc6,Qe8,Bb3,Ra8,d5,Bxe4,Re1,Bf5,dxe6,fxe6,Bxe6,Bxe6,Rxe6,Ra1,Qb2,Ra8,Qb7,Ra1,Qb2,Ra6,Rxe7,Qxc6,Qb4,Kg8,Bf4,Ra1+,Kh2,Qf6,Qb8+,Kh7,Qxc7,Rf8', 'Be5,Qxe7,Qxe7', 'https://lichess.org/training/qsB8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QSbBl', 'Rapid', 'Evgeniy508', 1622, 'bivor2009', 1667, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bxd4,Bxd4,Nxd4,Qxd4,Qf6,e5,Qb6,Qxb6,cxb6,Bc4,Ne7,O-O,O-O,Nc3,a6,a4,Nc6,f4,Rd8,Rfe1,Nb4,Re2,d5,Rd1,Bg4,Bxd5,Bxe2,Rd2,Nxd5,Nxe2,Ne3,Rxd8+,Rxd8,Kf2,Nd1+,Ke1,Nxb2,Nc3,f6,e6,Rd6,f5,g6,Ne4,Rd4,Nxf6+,Kg7', 'e7,Kxf6,e8=Q', 'https://lichess.org/training/QSbBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QsCok', 'Classical', 'bhure_07', 1772, 'LocoMx', 1755, 'd4,g6,Nf3,Bg7,e3,d5,c4,c6,Qb3,Nf6,Nc3,O-O,cxd5,cxd5,Bd3,Nc6,O-O,a6,a4,Na5,Qa2,Nc6,Rb1', 'Nb4,Qb3,Nxd3', 'https://lichess.org/training/QsCok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qsdnC', 'Rapid', 'fransollima', 1914, 'Flibustier74', 1920, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bg5,Be7,Bxe7,Nxe7,Nbd2,Nd7,Nb3,Qc8,Nh4,Bg6,Nxg6,hxg6,Be2,a6,h3,c5,c3,c4,Nd2,b5,b3,Nf5,bxc4,bxc4,Rb1,O-O,g4,Nh4,Nf3,Ng2+,Kd2,Rb8,h4,Rb5,h5,Nf4,hxg6,Nxg6,Ng5,Qd8,f4,Nxf4', 'Rh8+,Kxh8,Qh1+,Nh3,Qxh3+,Kg8,Qh7#', 'https://lichess.org/training/qsdnC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qSdXk', 'Blitz', 'AteSten', 1567, 'marco_cg20', 1668, 'e4,b5,Nf3,a6,d4,Bb7,Bd3,Nf6,Nbd2,d5,e5,Nfd7,Nb3,Nc6,Bf4,e6,Ng5,h6,Nxf7,Kxf7,Qh5+,Ke7,Bg5+,hxg5,Qxh8,Qe8,Qh7,Ndxe5,dxe5,Nxe5,Nc5,Bc6,Nxe6,Kxe6,Qf5+,Kd6,O-O,Qd7,Qxg5,Re8,Bf5,Qe7,Qg3,Qf6', 'Qa3+,b4,Qxb4#', 'https://lichess.org/training/qSdXk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QSFNf', 'Blitz', 'St-Samuel', 2127, 'berco', 2171, 'Nf3,Nf6,d4,g6,c4,Bg7,Nc3,O-O,e4,d6,Be2,e5,O-O,Nc6,d5,Ne7,b4,Nh5,c5,Nf4,Bxf4,exf4,Rc1,f5,cxd6,cxd6,Ng5,fxe4,Ncxe4,Nf5,Ne6,Bxe6,dxe6,d5,Nc5,Qd6,Bf3,Nd4,Re1,b6,Nb3,Nxf3+,Qxf3,Rfe8,Qg4,Qxb4,Rcd1,a5,Re2,a4,Nd2,Rac8,Nf3,Qc4,Rde1,d4,Re4,Qc3,Qxf4,d3,Qf7+,Kh8,Ne5,d2', 'Nxg6+,hxg6,Rh4+,Bh6,Rxh6#', 'https://lichess.org/training/QSFNf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qSFQN', 'Rapid', 'jayrojuma20007', 1967, 'Ashwini3990', 1962, 'b3,e5,Bb2,e4,e3,d5,c4,Nf6,Nc3,c6,Qc2,Na6,a3,Nc7,d4,exd3,Bxd3,Be7,Nf3,O-O,Nd2,d4,exd4,Qxd4,O-O,Rd8,Nb5,Qxd3,Qxd3,Rxd3,Nxc7,Rxd2,Nxa8,Rxb2,b4,b6,Rfe1,Bd6,Rad1,Bf8,Nc7,Bf5,h3,Bc2,Rd8,Bb3,Ne8,Nh5,g4,Nf4,Nd6,Nxh3+,Kh2,Nxf2', 'Rxf8+,Kxf8,Re8#', 'https://lichess.org/training/qSFQN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qsgG3', 'Blitz', 'SirJefferE', 1768, 'AngelRivasBucaro', 1793, 'd4,d5,c4,e6,Nf3,Nf6,e3,Bb4+,Nc3,Nc6,a3,Bxc3+,bxc3,O-O,cxd5,exd5,c4,Bg4,cxd5,Qxd5,Be2,Rad8,O-O,Rfe8,h3,Bh5,Bb2,Rd6,Rc1,Qe4,Bd3,Bxf3,Bxe4,Bxd1,Bxc6,Be2,Bxe8,Bxf1,Bxf7+,Kxf7,Kxf1,c6,f3,Nd5,e4,Nf4,e5,Rd5,Rd1,Ne6,Ke2,c5,dxc5,Rxc5,Rd7+,Kg6,Rxb7,Nf4+,Kf2,Rc2+,Kg3,Nxg2,e6,h5,e7,h4+,Kg4', 'Rc4+,Bd4,Rxd4+,f4,Rxf4#', 'https://lichess.org/training/qsgG3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QSHDS', 'Rapid', 'masood7180', 1920, 'justheretolearn', 1914, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bg5,Bb4,Nf3,O-O,Bd3,Re8+,Ne5,Nbd7,O-O,Nxe5,dxe5,Rxe5,f4,Re8,Nxd5,Qxd5,Bxf6,gxf6', 'Bxh7+,Kxh7,Qxd5', 'https://lichess.org/training/QSHDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qsHg0', 'Classical', 'abhinav1415', 1722, 'Abdooabdoo', 1709, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,a6,Bc4,Bc5,d3,d6,f4,Be6,Bxe6,fxe6,f5,Qe7,Nd2,O-O-O,Kh1,Nf6,a3,exf5,b4,Bb6,Rxf5,g6,Rf1,h5,Nc4,Ba7,Bg5,Rhf8,Qf3,Qh7,Bxf6,Rd7,Qh3,Kb8,Qxd7,Qxd7,e5,dxe5,Nxe5,Qe6,Rae1,Rxf6', 'Rxf6,Qxf6,Nd7+,Kc8,Nxf6', 'https://lichess.org/training/qsHg0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qSHnT', 'Rapid', 'A-N-D-R-E-Y', 1614, 'supernebulon', 1732, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Nf6,d3,Na5,Bb3,Nxb3,axb3,Be7,O-O,Bg4,Qe1,exf4,Bxf4,O-O,Qg3,Qd7,Nc3', 'Nh5,Qe1,Nxf4', 'https://lichess.org/training/qSHnT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qSJ2k', 'Classical', 'deMaar', 1644, 'dany-73', 1648, 'd4,Nf6,c4,d5,Nf3,dxc4,Qa4+,Nc6,Qxc4,Be6,Qa4,Bf5,e3,e6,a3,Bd6,Bb5,Qd7,Nc3,O-O,Ne5,Bxe5,dxe5,Nd5,Bd2,a6,Bxc6,Qxc6,Qxc6,bxc6,O-O,Rfd8,Rad1,Rab8,b4,h6,Rfe1,Bg6,Na4', 'Bc2,Rc1,Bxa4', 'https://lichess.org/training/qSJ2k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qsjDm', 'Blitz', 'capetudo', 1617, 'pminger', 1607, 'd4,d5,c4,c6,Nc3,dxc4,e4,Nf6,Bxc4,b5,Bd3,Qxd4,Nxb5,Qb4+,Qd2,Qxd2+,Bxd2,cxb5,Bxb5+,Kd8,O-O-O,e6', 'Ba5+,Ke7,Bb4#', 'https://lichess.org/training/qsjDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qsjn4', 'Rapid', 'momson', 2229, 'skakdud', 2237, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e5,Nb3,Be6,Qe2,b5,Bd5,Bxd5,Nxd5,Nxd5,exd5,Be7,O-O,f5,f4,e4,Nd4,Bf6,Nxf5,O-O,Qxe4,Re8,Qf3,Nd7,Nxd6', 'Qb6+,Kh1,Qxd6', 'https://lichess.org/training/Qsjn4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qsjqu', 'Rapid', 'jokivarsi', 2087, 'bjkaria', 1966, 'd4,d5,c4,Nc6,Nc3,dxc4,e3,e5,Nf3,Bg4,dxe5,Qxd1+,Nxd1,Bxf3,gxf3,Nxe5,f4,Bb4+,Nc3,Bxc3+,bxc3,Nd3+,Bxd3,cxd3,c4,O-O-O,Kd2,Nf6,f3,Rhe8,Bb2,Re6,Rhg1,g6,Bd4,b6,c5,bxc5,Bxc5,Rd5,Bxa7,Ra6,Bd4,c5,Be5,Nd7,e4,Nxe5,fxe5,Rxe5,Kxd3,Ra3+,Ke2,Rh5,Rg2,Kc7,Kf2,Kc6,Kg1,Rxf3,Rc1,Ra3,Rgc2,Ra5,Rf1,f5,exf5,Rxf5,Re1,Ra3,Re6+,Kd5,Re7,h5,Rd2+,Kc4,Re4+,Kc3,Rg2,g5', 'Rg3+,Kd2,Rxa3', 'https://lichess.org/training/Qsjqu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qskf8', 'Blitz', 'd0b3', 1947, 'Jveer', 1962, 'd4,d5,Bg5,c6,Nf3,Qb6,Qc1,Nf6,e3,Ne4,Bh4,Na6,Be2,Nb4,a3,Qa5,O-O,Bf5,Nbd2,Nxd2,Qxd2,Qc7,axb4,g6,Bg3,Qd7,Ne5,Qe6,c4,Bg7,cxd5,cxd5,Bb5+,Kf8,Bd7,Qf6,Bxf5,Qxf5,Rfc1,Rd8,Rxa7,h5,h3,h4,Bh2,g5,Rxb7,Bxe5,dxe5,g4,Rcc7,gxh3,Rxe7', 'Qb1+,Qc1,Qxc1#', 'https://lichess.org/training/qskf8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QskP1', 'Rapid', 'dogosonico', 1732, 'Mladen_Srb_Zem', 1746, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,d6,Nc6,Nxc6,Qxe4+,Ne7,Bc4,g6,O-O,Bg7,Re1,Bf6,Bb5+,c6,Bxc6+,bxc6,Qxc6+,Bd7,Qxd6,O-O,Qxf6,Re8,d4,Nd5,Rxe8+,Qxe8,Qe5,Qxe5,dxe5,Re8,f4,Nb4,Na3,Bf5,c3,Nc2,Nxc2,Bxc2,b3,Rd8,Be3,a5,c4,Be4,Bb6,Rd2,Bxa5,Rxg2+,Kf1,Rxh2,c5', 'Rh1+,Kf2,Rxa1', 'https://lichess.org/training/QskP1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qskpo', 'Rapid', 'wizzyboi1', 1755, 'achill1666', 1674, 'd4,d5,Nf3,c5,c3,Nc6,Bf4,e6,e3,c4,Ne5,Nxe5,Bxe5,Nf6,Nd2,b5,b3,a6,bxc4,bxc4,f3,Bd7,e4,Be7,Bxf6,Bxf6,e5,Be7,Be2,O-O,O-O,f6,f4,fxe5,fxe5,Rxf1+,Nxf1,a5,Ng3,a4,Qc2,a3,Rf1,Qa5,Bh5,Ba4,Bf7+,Kh8,Qb1,Bd7,Rf4,Qxc3,Rf3,Qxd4+,Kh1,Qxe5,Ne2,Qb2', 'Qxh7+,Kxh7,Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/Qskpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qsm1c', 'Rapid', 'petarl', 1656, 'andvaortiz94', 1662, 'e4,e5,Nf3,d6,Bc4,Nf6,c3,Nc6,d4,exd4,cxd4,Qe7,O-O,Bd7,e5,dxe5,Re1,O-O-O,dxe5,Ng8,Qb3,Be6,Bxe6+,fxe6,Nc3,Qf7,a4,h6,a5,g5,a6,b6,Qb5,Nb8,Be3,g4,Nh4,Ne7,Rad1,Bg7,Qc4,Bxe5,Bxb6,axb6,a7,Kb7,Ra1,Ka8,axb8=Q+,Kxb8,Qa4,Kc8,Qa8+,Kd7,Red1+,Bd6,Qa4+,Nc6,Ne4,Ra8,Nxd6,cxd6,Qb3,Rhf8,Qg3,Rxa1', 'Qxd6+,Ke8,Qxc6+', 'https://lichess.org/training/Qsm1c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QsOCF', 'Rapid', 'ricardo45', 1770, 'franok', 1953, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,Bg4,h3,Bh5,g4,Bg6,d4,h5,Rg1,hxg4,hxg4,e6,Ne5,Bxc2,Qxc2,Qxd4,Qa4+,c6,Nf3,Qd6,Qc2,Nbd7,Be3,Nb6,Bd3,Qb4,O-O-O,Nxg4,Bxb6,axb6,Qd2,Nf6,Rde1,g6,Qe2,Nd5,Nxd5,cxd5,Bxg6,Rxa2,Bxf7+,Kd8,Bg6,Ra1+,Bb1,Bh6+,Ng5,Qc5+,Qc2,Qd4,Qd2', 'Rxb1+,Kxb1,Qxd2', 'https://lichess.org/training/QsOCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qsoNQ', 'Rapid', 'blink08esmil', 2098, 'clayharmon', 1944, 'e4,d5,exd5,Qxd5,d4,Nf6,Nc3,Qa5,Bd2,c6,Nf3,Bf5,Bc4,e6,O-O,Bb4,a3,Bxc3,Bxc3,Qc7,Qe2,O-O,Ba2,Nbd7,Rad1,Nd5,Bd2,N7f6,c4,Nf4,Bxf4,Qxf4,d5,cxd5,cxd5,Nxd5,Bxd5,exd5,Rxd5,Rad8,Rb5', 'Bd3,Qxd3,Rxd3', 'https://lichess.org/training/qsoNQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QspuN', 'Rapid', 'sklekovi', 1920, 'nbgdblokovi', 1909, 'd4,d5,c4,dxc4,Nc3,e5,e3,exd4,exd4,Nf6,Bxc4,Bd6,Nf3,Qe7+,Be3,Ng4,Qd2,Nxe3,fxe3,O-O,O-O,a6,Rfe1,Rd8,Qc2,Nc6,a3,Na5,Bd3,h6,b4,Nc6,Kh1,Bg4,Nd2,Qh4,Nf1,Be7,Ne4,Rd5,Nc5,Bxc5,bxc5,Re8,Ng3,Rg5,Qf2,f5,Ne4,Rh5,Qxh4,Rxh4,Ng3,Rf8,Rab1,Nd8,h3,g6,Kg1,Bh5,Nxh5,Rxh5,Be2,Rg5,Kh2,f4,Bf3,fxe3,Rxe3,Rgf5,Rbe1,c6,Re7,R5f7,d5,Rxe7,Rxe7,Rf7,Rxf7,Kxf7,dxc6,Nxc6,Bxc6', 'bxc6,Kg3,Ke6,Kf4,Kd5', 'https://lichess.org/training/QspuN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qsQi4', 'Blitz', 'pimpczanpotasu', 1545, 'VictorOlegovichS', 1605, 'e4,d5,Nf3,dxe4,Ng1,Nc6,d3,exd3,Bxd3,Nf6,Nf3,e5,O-O,Bd6,Bb5,Bd7,Bg5,O-O,Nc3,a6,Bxc6,Bxc6,Qe2,Re8,Rad1,Qe7,Rfe1,h6,Bxf6,Qxf6,Ne4,Qf5,Nxd6,cxd6,Rxd6,Bxf3,Qxf3,Qxc2,Qxb7,Rab8,Qxa6,Rxb2,Rf1,Rxa2,Qb5,Rf8,Qxe5,Qe2,Qg3,f5,Rxh6,f4,Qg6,Re8,Qh7+,Kf7,Qf5+,Kg8,Qd5+,Kf8,Rh8+,Ke7,Qb7+,Kf6,Qc6+,Re6,Rf8+,Kg6,Qf3', 'Qxf1+,Kxf1,Ra1+,Qd1,Rxd1#', 'https://lichess.org/training/qsQi4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qsrks', 'Rapid', 'M2nn', 2171, 'DrPredictstein', 2098, 'd4,Nf6,Bg5,Ne4,Bf4,g5,Be3,d5,f3,Nd6,Bxg5,Nc6,e3,f6,Bh4,Bf5,Bd3,Qd7,Nc3,Nb4,Bxf5,Qxf5,e4,dxe4,fxe4,Nxe4,Rc1,Nxc3,bxc3,Nxa2,Ra1,Nxc3,Qd2,Qe4+,Kf1,Qxh4,Qxc3,Qf4+,Nf3,Bh6,g3,Qe3,Qxe3,Bxe3,Kg2,a6,Rhe1,Bh6,Nh4,O-O-O,Rxe7,Rxd4,Nf5,Rd2+,Kf3,Bf8,Rf7,Bc5,Rxf6,Rxh2,Ra2,Rf2+,Ke4,Re8+,Kd5,Bb6,g4,Rd2+,Kc4,Rf2,Kb3,Kb8,c4,Re5,Rxf2,Bxf2,Rf7,Re4,g5,Rg4,Nh6,Rxg5,Rxf2,Rg6,Rf8+,Ka7,Nf5,h5,Rf7,c6,Kb4,Kb6,Rh7,c5+,Kc3,Rg5,Rh6+,Ka5,Nd6,b5,cxb5,axb5', 'Nb7+,Ka4,Ra6#', 'https://lichess.org/training/qsrks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QSrRB', 'Rapid', 'eyad1', 1659, 'djolafrite', 1644, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Nf6,h3,Bc5,O-O,d6,a4,O-O,Re1,Qe7,Be3,Bxe3,Rxe3,Be6,b3,Rad8,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd3,Nh5,Nc3,Nf4,Qf1,Qg5,Rg3,Qf6,Bxe6,fxe6,Ne2', 'Nxe2+,Qxe2,Qxa1+', 'https://lichess.org/training/QSrRB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QsXeZ', 'Blitz', 'cjohans', 2070, 'hosschess', 1531, 'd3,d5,d4,Nc6,c3,e5,dxe5,Nxe5,Nf3,Nxf3+,exf3,Nf6,Bd3,Be7,O-O,O-O,Re1,Be6,Nd2,c5,Nf1,c4,Bb1,b5,Ng3,a5,Bg5,b4,Qc2,g6,h4,Kg7,h5,Ng8,hxg6,hxg6,Rxe6,Bxg5', 'Rxg6+,fxg6,Qxg6+,Kh8,Qh7#', 'https://lichess.org/training/QsXeZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QszgF', 'Rapid', 'panda4084', 1935, 'wsh_mgn', 2006, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Nxc3,bxc3,Bc5,d3,Qf6,Nf3,e4,Nd4,Nc6,Be3,Nxd4,cxd4,Bb4+,Bd2,e3,Qa4+,c6,fxe3,Bxd2+,Kxd2,O-O,Raf1,Qe7,d5,b5,Qf4,Qa3,dxc6,Qxa2+,Ke1,Be6,Kf2,a5,Ra1,Qd2,Rhd1,Qc3,Rdc1,Qf6,c7,Ra7,d4,b4,Qxf6,gxf6,d5,Bd7,d6,Ra6,Bb7,Rb6,c8=Q,Bxc8,Bxc8,b3,d7,b2,Rcb1,bxa1=Q,Rxa1,Rd6,Rxa5,Kg7,Ra4,f5,Rf4,Kg6,Rxf5,Rc6,Rd5,Rf6+,Kg2,Rd8,h4,Re6,Kf3,f5,Kf4,Re4+,Kf3,Kf6,Rd6+,Kg7,Rd4,Rxd4,exd4,Kf6,Kf4,h6,e4,fxe4,Kxe4,Rg8,Kf4,Ke7,g4,Rg6,g5,h5,d5,Rd6,Ke5,Rb6,Kf5,Rb4,g6,Rxh4,g7,Rg4,d8=Q+', 'Kxd8,Be6,Rxg7', 'https://lichess.org/training/QszgF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qszk8', 'Classical', 'samiandoni', 2031, 'Star_Hipnos', 2087, 'd4,Nc6,c4,e5,d5,Nce7,e4,Ng6,g3,Bb4+,Nc3,Nf6,Bg2,d6', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/qszk8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qsztc', 'Rapid', 'lbobo0927', 1873, 'Keyko', 1833, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,d3,O-O,O-O,d5,exd5,Nxd5,Re1,Bf6,Nbd2,Na5,Bb5,c6,Ba4,b5,Bc2,Re8,Ne4,Be7,b4,Nb7,Nxe5,f5,Nxc6,Qc7,Nxe7+,Rxe7,Bb3,Be6,Ng3,Nxc3,Qf3,Bxb3,Rxe7,Qxe7,axb3', 'Qe1+,Nf1,Ne2+,Qxe2,Qxe2', 'https://lichess.org/training/Qsztc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qT0M3', 'Blitz', 'javirover', 2168, 'Franbriones', 2259, 'd4,d6,Bf4,Nf6,h3,e5,Bh2,exd4,Qxd4,Nc6,Qd1,Be7,Nf3,O-O,e3,d5,a3,Ne4,Bd3,f5,O-O,Be6,Nbd2,Bd6,Bxd6,Qxd6,Nb3,f4,Nbd4,Nxd4,Nxd4,f3,Nxf3,Bxh3,Bxe4,Bxg2,Bxd5+,Kh8,Kxg2,Qg6+,Kh3,Qf5+,Kg3,Rf6,Nh4,Qg5+,Kh3,Rh6,Qg4,Qxd5,Rad1,Qc6,f4,Qxc2,Rg1,Qxb2,Rd7,Rg8,Rxc7,Qxa3,Qxg7+,Rxg7', 'Rc8+,Qf8,Rxf8+,Rg8,Rgxg8#', 'https://lichess.org/training/qT0M3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QT0n3', 'Rapid', 'burak-can93', 1655, 'Evren-Coskun', 1657, 'd4,c5,Nf3,Nc6,c4,Nf6,Nc3,e6,Bg5,d5,e3,cxd4,Nxd4,Nxd4,Qxd4,Be7,O-O-O,O-O,Bd3,dxc4,Bxh7+,Kxh7', 'Qh4+,Kg8,Rxd8', 'https://lichess.org/training/QT0n3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qt0VW', 'Blitz', 'Otoniel_2020', 1540, 'chessrafter', 1511, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bd6,Bd3,O-O,O-O,Nc6,Bg5,Bg4,Nxd5,Nxd4,Nxf6+,gxf6,Bxh7+,Kxh7,Qxd4,Bxf3,Qh4+,Kg6,Qh6+,Kf5,Qh3+,Bg4,Qd3+,Kxg5,h4+,Kxh4,Qh7+,Kg5,g3,Rh8', 'f4+,Bxf4,gxf4#', 'https://lichess.org/training/qt0VW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qt1As', 'Rapid', 'donleg', 1643, 'Cascatinha', 1682, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Nf6,Qe5+,Qe7,Qxe7+,Kxe7,e5,Ng4,f4,d6,exd6+,Kxd6,Be2,Re8,Nc3,c6,h3,Ne3,Rc1,Nxg2+,Kf2,Nxf4,Bd3,Nxd3+,cxd3,Bf5,Rcd1,Rad8,Ne4+,Bxe4,dxe4+,Kc7,Kf3,Re6,Rdg1,g6,Kf4,Rd2,Rb1,Re2,Rhe1,Rxe1,Rxe1,c5,Kg5,Re5+,Kh6,Rh5+,Kg7,Rxh3,Kxf7,Rf3+,Kg7,h5,Kxg6,h4,Rh1,h3,Kg5,Kd6,Kg4,Rd3,Rxh3', 'Rxh3,Kxh3,Ke5', 'https://lichess.org/training/Qt1As');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QT2df', 'Blitz', 'fittonyah', 2173, 'NM Aborigen100500', 2750, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,a5,g3,d5,a3,Bxd2+,Nbxd2,O-O,Bg2,b6,O-O,Bb7,Rc1,Nbd7,Qc2,c5,dxc5,Nxc5,cxd5,Bxd5,Rfd1,Qe7,Nc4,Be4,Qc3,Nd5,Qe5,Rad8,Nd4,Bxg2,Kxg2,f6,Qh5,e5,Nc6,Qb7,Nxd8,Nf4+,Kg1', 'Qg2#', 'https://lichess.org/training/QT2df');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QT3Tz', 'Blitz', 'Kotfedot', 2150, 'SaschaWinterkamp', 2315, 'Nf3,b6,g3,Bb7,Bg2,d6,O-O,e6,c4,Ne7,Nc3,Nd7,Re1,h6,d4,g6,e4,Bg7,Be3,a6,Rc1,Ra7,b4,Qa8,d5,e5,c5,bxc5,bxc5,Nxc5,Bxc5,dxc5,Na4,O-O,Nxc5,Bc8,Nd3,Bg4,Qc2,Bxf3,Bxf3,Qd8,Red1,Nc8,Qc5,Rb7,Qc6,Nd6,Nc5,Rb6,Qa4,Qf6,Bg2,Rb2,Rc2,Rfb8,Nd7,Qg5,Nxb8,Rxb8,Qxa6,Nb5,Rb2,Rb6,Qa8+,Kh7,a4,Nc3,Rdd2', 'Rxb2,Rxb2,Qc1+,Bf1,Qxb2', 'https://lichess.org/training/QT3Tz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qT7fo', 'Rapid', 'MrMarvyn', 1830, 'LORD__asadi', 1749, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,c5,a3,c4,Ba2,Nf6,Nf3,Bg4,O-O,Be7,h3,Bh5,d3,h6,dxc4,O-O,cxd5,Nbd7,Be3,b6,Nbd2,Bc5,Bxc5,bxc5,Qc1,Bxf3,Nxf3,Nb6,c4,Re8,Re1,Qc7,Rxe8+,Rxe8,Qc3,Na4,Qc2,Qb8,b3,Nb6,b4,Nbd7,bxc5,Nxc5,Rb1,Qd6,Nd4,Qf4,Nc6,Nce4,Nxa7,Nd2,Rd1,Nf3+,gxf3,Qxf3,Qd3', 'Re1+,Rxe1,Qxd3', 'https://lichess.org/training/qT7fo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qt9bL', 'Classical', 'Mohamed-Anw2r', 1813, 'Berserk22', 1699, 'd4,d5,c4,c6,Nc3,h6,e3,Nf6,Qc2,g6,Bd3,Bg7,Nf3,Bg4,Ne5,Bf5,Bxf5,gxf5,Qxf5,Nbd7,f4,Nxe5,fxe5,Nh7,O-O,O-O,cxd5,cxd5,Qg4,e6,e4,Kh8,exd5,exd5,Qf3,Qb6,Rd1,Bxe5,Nxd5,Bxd4+,Rxd4,Qxd4+,Be3,Qxb2,Rf1,Rae8,Rd1,Re6', 'Bd4+,Qxd4+,Rxd4', 'https://lichess.org/training/qt9bL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qt9Wa', 'Rapid', 'ioanisd', 2066, 'daniel_GoD', 2236, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Bxf6,Bxf6,e4,O-O,Nbd2,Bg7,c3,d6,Be2,e5,d5,Nd7,O-O,Nc5,Qc2,f5,Bd3,Nxd3,Qxd3,fxe4,Qxe4,Bf5,Qe3,Qf6,h3,a6,Rac1,Rae8,Ne4,Bxe4,Qxe4,Bh6,Rcd1,Qe7,Qh4,Qg7,Rfe1,Rf4,Qg3,Ra4,a3,Bf4,Qg4,Bh2+,Nxh2,Rxg4,Nxg4,Rf8,f3,h5,Nf2,Qf6,Re4,Qg5,Rde1,Rxf3', 'h4,Qf6,gxf3', 'https://lichess.org/training/Qt9Wa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qTA34', 'Rapid', 'MX-59', 1690, 'Kevintrandai', 1622, 'e4,e5,Nf3,d6,Bc4,g6,d4,exd4,Qxd4,Nf6,Bg5,Bg7,e5,Nc6,Bb5,dxe5,Qxe5+,Be6,Nc3,O-O,Bxc6,bxc6,O-O,Re8,Rad1,Qe7,Qf4,Bf5,Rfe1,Qc5,Rxe8+,Rxe8,Nd4,Ne4,Nxf5,Nxc3,Nxg7', 'Ne2+,Kh1,Nxf4', 'https://lichess.org/training/qTA34');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QTaB3', 'Rapid', 'Aruntej', 1739, 'oluwanifemi', 1854, 'e4,e5,Nf3,d6,Nc3,Bg4,Be2,Nc6,O-O,Nf6,d3,Qd7,Nd5,Nxd5,exd5,Nb4,c3,Nxd5,c4,Nf6,Re1,h6,Qb3,b6,c5,dxc5,Nxe5,Qe6,Qc3,O-O-O,Nxg4,Nxg4,Bxg4,Qxg4,h3,Qd4,Qb3,Qf6,Be3,Bd6,Qb5,Kb7,a4,Qe5,g3,Qf6,a5,Rb8,a6+,Kc8,Rac1,g5,d4,Qe7,dxc5,Qe5,Qc6,bxc5,Bxc5,Qxb2,Bxd6,Qb6,Re8+,Rxe8', 'Qxe8#', 'https://lichess.org/training/QTaB3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qtBdY', 'Rapid', 'DLIAUL_HAQ', 2091, 'd0berm4n', 1846, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be3,Nf6,a3,b5,Bd3,Nc6,O-O,Bb7,Nxc6,dxc6,Qf3,c5,Qg3,Qxg3,fxg3,c4,Be2,Nxe4,Nxe4,Bxe4,c3,Be7,Bd4,O-O,Rae1,f5,g4,Bf6,Bxf6,Rxf6,gxf5,exf5,Bf3,Re8,Bxe4,fxe4,Rxf6,gxf6,Kf2,Kf7,Rd1,Ke6,Ke3,Ke5,Rd7,f5,g3,h6,Ra7,Re6,Rd7,Rf6,Re7+,Re6,Rd7,Rd6,Re7+,Kf6,Rh7,Kg5,Rg7+,Rg6,Rd7,Kg4,Rd2,Kh3,Kf4,Rg5,Rd6,Kxh2', 'Rxh6+,Kg2,Kxg5', 'https://lichess.org/training/qtBdY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qtC6Q', 'Rapid', 'tibi23', 2097, 'aliyev-ali', 2106, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,dxe4,Nxe4,Be7,Bxf6,gxf6,Nf3,b6,Bb5+,c6,Bd3,Qc7,Qe2,Bb7,O-O-O,Nd7,h4,O-O-O,Rhe1,Rhg8,g3,h6,Ba6,f5,Bxb7+,Kxb7,Ned2,f4,Rg1,fxg3,fxg3,Rxg3,Rxg3,Qxg3,Rg1,Qf4,Kb1,Bxh4,Nxh4,Qxh4,Ne4,Nf6,Nxf6,Qxf6,c3,Rh8,a4,h5,a5,h4,a6+,Kc7,Rf1,Qg6+,Ka1,h3', 'Qe5+,Kd7,Qxh8', 'https://lichess.org/training/qtC6Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QtceZ', 'Rapid', 'pasque67', 1727, 'gokoby', 1701, 'e4,c5,Nf3,d6,Bc4,Nd7,d4,cxd4,Nxd4,Ngf6,Nc3,a6,f3,e6,Bg5,Be7,Qd2,Rb8,O-O,Qc7,Bd3,b5,f4,Qb6,Qf2,Ng4,Qf3,Qxd4+,Kh1,Ngf6,f5,Bb7,Be3,Qe5,fxe6,fxe6,g4,O-O,Bf4,Qc5,Be3,Qc6,Kg1,Ne5,Qh3,Nfxg4,Bf4,Qc5+,Kh1,Nf2+,Rxf2,Qxf2,Rf1,Qh4,Qxe6+,Kh8,Bxe5,Rxf1+,Bxf1,dxe5,Qxe5,Bf6', 'Qxb8+,Bd8,Qxb7', 'https://lichess.org/training/QtceZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qtCfN', 'Blitz', 'Origbat', 2350, 'FM AntonChess123', 2473, 'e4,e5,f4,exf4,Bc4,Ne7,Nf3,Ng6,h4,h5,d4,Be7,Nc3,Nxh4,Bxf4,Nxg2+,Kf2,Nxf4,Qg1,g6,Ne5,d5,Nxd5,Ne6,Nxf7,Kxf7,Rf1,Kg7,Ke2,Nc6,c3,Na5,Bd3,Bd7,e5,Be8,Rf6,Qxd5,Rxg6+,Bxg6', 'Qxg6+,Kf8,Rf1+', 'https://lichess.org/training/qtCfN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qtdd7', 'Rapid', 'Zhangbyrbay', 1691, 'thelordC75', 1670, 'd4,d5,Bf4,Nf6,Nc3,a6,e3,g6,Nf3,Bg7,Bd3,O-O,Ng5,Nc6,a3,Re8,h4,e5,dxe5,Nxe5,h5,Nxd3+,Qxd3,d4,Nce4,Bf5,f3,dxe3,Bxe3,Qxd3,cxd3,gxh5,Nxf6+,Bxf6,Rxh5,Rxe3+,Kf2,Rae8,Rah1,Re2+,Kg3,Be5+,f4,Re3+,Nf3,Bf6,Rxf5,Bxb2,Rg5+,Kf8,Rxh7,Rxd3,Rf5,Re7,Kg4,Bg7,Ne5,Bxe5,fxe5,Re3,Kf4,Re1,g4,Ke8,Rh8+,Kd7,Rb8,b5,Rf8,Rf1+,Kg5,Rxf5+,Kxf5,c5,Kf6,c4', 'Rxf7,Rxf7+,Kxf7,Kc7,e6,c3,e7,c2,e8=Q', 'https://lichess.org/training/Qtdd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qTe2z', 'Rapid', 'Kolodyn', 2079, 'ArtificialStupidity', 1897, 'd4,d5,c4,c6,Nf3,Bg4,Ne5,Bh5,cxd5,Qxd5,Nc3,Qd8,Qb3,Qb6,Qa4,e6,a3,Nf6,g3,Bd6,Bg2,O-O,O-O,Nbd7,Be3,Qc7,f4,Nd5,Nxd5,exd5,Rf2,Nb6,Qc2,Bxe5,dxe5,Bg4,h3,Bd7,Bc5,Rfe8,b3,Qc8,Kh2,Bf5,Qc3,Nd7,Bd6,g6,g4,Be6,f5,d4,fxe6,dxc3,exf7+,Kg7,fxe8=N+,Qxe8,Rf4,Nxe5,Re4,Nxg4+,hxg4,Qg8,g5,Re8,Be5+', 'Rxe5,Rxe5,Qb8', 'https://lichess.org/training/qTe2z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QtEIO', 'Classical', 'demmasterr', 1867, 'Mikhail211', 1723, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,Ng4,d5,Bxd5,Bxg4,f3,Qh4+,Kf1,Bc8,c3,Ne6,Qb3,Bc5,d4,Bb6,a4,a5,Na3,Ne7,Nc4,Nxd4,cxd4,Bxd4,Be3,Bxe3,Nxe3,Nxd5,Nxd5,O-O,Nxc7,Ra7,Qb6,Qd8,Qxa7,Qxc7,Qe3,Qc4+,Qe2,Qb4,Qc2,Be6,Rc1,Rd8,Kf2', 'Rd2+,Qxd2,Qxd2+', 'https://lichess.org/training/QtEIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qtewX', 'Rapid', 'chessmatenok2004', 1784, 'SearchForTruth', 1968, 'd4,g6,e4,Bg7,c4,d6,Nf3,Nd7,Nc3,c5,d5,e6,Be3,exd5,exd5,Ne7,Be2,O-O,O-O,Ne5,Nxe5,Bxe5,Re1,Nf5,Bg4,Nxe3,Rxe3,Bd4,Re1,Qh4,Bxc8,Bxf2+,Kh1,Bxe1,Bxb7,Rab8,Qxe1,Qxe1+,Rxe1,Rxb7,b3,a6,g3,Kg7,Kg2,Rd8,Re2,Rdd7,Kf3,Re7,Ne4,Rbd7,Rf2,f5,Ng5,h6,Ne6+,Kf6,h4,Rxe6,dxe6,Kxe6,Re2+,Kf6,Kf4,d5,cxd5,Rxd5,Rc2,Rd3,Rxc5', 'g5+,hxg5+,hxg5#', 'https://lichess.org/training/qtewX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QtfAW', 'Rapid', 'Fjferran', 1610, 'ertugrulkocaaga', 1619, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,O-O,Nc3,c6,Bg5,h6,Bxf6,Qxf6,O-O,d5,exd5,cxd5,Nxd5,Qg6,Nc7,Bh3,Nh4,Qg5,Qf3,Qxh4,Nxa8,Bc8,Nc7,Nc6,Nd5,Nd4,Qd1,Bg4,Qd2,Be2,Rfe1', 'Nf3+,gxf3,Qxf2+,Kh1,Bxf3#', 'https://lichess.org/training/QtfAW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qTfO7', 'Blitz', 'FrostyDogs', 2179, 'FM rikchess', 2339, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Nc6,Bc4,Bg4,O-O,e6,Be3,Qh5,Be2,Bd6,h3,Bxh3,gxh3,Qxh3,Ng5', 'Qh2#', 'https://lichess.org/training/qTfO7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QTfuy', 'Classical', 'ori955', 1613, 'khaledegy', 1684, 'd4,e6,c4,Nf6,Nc3,c5,d5,exd5,Nxd5,Nxd5,Qxd5,d6,e4,Na6,Nf3,Nb4,Qd1,Bg4,a3,Bxf3,gxf3,Qa5', 'Bd2,Qc7,axb4', 'https://lichess.org/training/QTfuy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QtGHk', 'Blitz', 'FM Oscar-i', 2320, 'sahyalakasi', 1792, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Bf5,Qb3,e6,Nc3,b6,e3,a6,Nf3,Bd6,Bxd6,Qxd6,Be2,Ne7,O-O,O-O,Qa3,Qxa3,bxa3,b5,Rfc1,Nbc6,a4,b4,Nd1,a5,Nb2,Rab8,Nd2,Rfc8,Nb3,Na7,Bd3,Bxd3,Nxd3,Rc3,Ndc5,Nac6,Kf1,Nc8,Ke2,Nd6,Rxc3,bxc3,Rc1,Nb4,a3,Na6,Rxc3,Nxc5,Nxc5,Nc4,Rb3,Rxb3,Nxb3,Kf8,Kd3,Ke7,e4,Kd6,e5+,Kc6,Kc3,Kb6,f4,Nxa3,Nc5,Nc4,Nd7+,Kc7,Nf8,h6,g4,Kd8,Nh7,Ke7,g5,h5,g6,fxg6,Ng5,Ne3,Nf3,Ng2,Nd2,Nxf4,Nb3,Ne2+,Kd3,Nf4+,Ke3,Ng2+,Kf2,Nf4,Nxa5,Nd3+,Ke3,Nb2,Nb3,Nxa4,Nd2,Nc3,Nf3,Ne4,Kf4,Kd7,h4,Kc6,Ng5,Nxg5,Kxg5,Kb5,Kxg6,Kc4,Kf7,Kxd4,Kxe6,Ke4', 'Kd6,d4,e6,d3,e7,d2,e8=Q+', 'https://lichess.org/training/QtGHk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qtgiC', 'Classical', 'Issamhydar123', 1635, 'CanardCossu', 1639, 'Nf3,g5,g3,g4,Nh4,d5,d4,Nc6,Nc3,Bg7,e3,e5,dxe5,Nxe5,Qxd5,Nf3+,Nxf3', 'Bxc3+,Qd2,Bxd2+', 'https://lichess.org/training/qtgiC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qtgOl', 'Rapid', 'scarlet123', 1679, 'Dujon1', 1681, 'e4,e5,Nc3,Nf6,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Be3,Nc6,O-O-O+,Bd7,Bd3,Bd6,Nf3,Ke7,Bg5,Rhe8,Bxf6+,Kxf6,h4,h6,Rdg1,Kg6,g4,Kh7,g5,h5,g6+,fxg6,Ng5+,Kg8,Nh3,Kh7,Ng5+,Kg8,Nf3,Kh7,Rg5,Bg4,Nd5,Nd4,Nxd4,exd4,e5,Bxe5,Bxg6+,Kh8,Bxe8,Rxe8,Re1,Bf4+,Nxf4', 'Rxe1+,Kd2,Rd1#', 'https://lichess.org/training/qtgOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QTh4o', 'Blitz', 'Mustafa1368r', 1507, 'FxEqualx', 1638, 'd4,d6,Nf3,g6,Nc3,e6,e4,Bg7,e5,d5,Bg5,Ne7,Qd2,h6,Bf6,Bxf6,exf6,Nec6,Qf4,Nd7,Nb5,Nxf6,Nxc7+,Ke7,Nxa8,Nb4,Bd3,Nxd3+,cxd3,Qa5+,Qd2,Qd8,Qb4+,Ke8,Ne5,Bd7,Nxd7,Nxd7,Qxb7,Kf8,Nc7,Kg7,O-O,h5,Rae1,Qf6,Nxd5,exd5,Qxd7,Rd8,Qxa7,Rd6,b4,Ra6,Qb7,Rb6,Qxd5,Rxb4,Re5,Rb6,Rfe1,Rb2,f3,Qh4,Re7', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/QTh4o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QTHb3', 'Rapid', 'sb19822008', 1731, 'ibrahim1327', 1878, 'c4,d5,Nc3,Nf6,e3,Bf5,Nf3,Nc6,d4,a5,a3,h6,Be2,e6,O-O,Ne4,cxd5,Nxc3,bxc3,exd5,c4,dxc4,Bxc4,Bd6,d5,Ne5,Nxe5,Bxe5,Ra2,Qh4,Qa4+,Bd7,g3,Qe4,Bb5', 'Qxa4,Bxa4,Bxa4', 'https://lichess.org/training/QTHb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qthoQ', 'Rapid', 'Jason0918', 1833, 'vikpet70', 1799, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,c3,d6,h3,O-O,O-O,Nb8,d4,exd4,cxd4,Nbd7,Bf4,Bb7,e5,dxe5,dxe5,Ne4,e6,Ndc5,exf7+,Kh8,Qxd8,Raxd8,Bxc7,Nxb3,Bxd8,Nxa1,Bxe7,Rxf7,Rd1,h6,Ne5,Rxe7', 'Ng6+,Kh7,Nxe7', 'https://lichess.org/training/qthoQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QTHzU', 'Rapid', 'TheBdr', 1639, 'MarcTueur', 1848, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,a6,Bd2,e6,e5,dxe5,dxe5,Nd5,Nf3,Nc6,Bg5,Be7,Bxe7,Ncxe7,Qa4+,Bd7,Qg4,Nxc3,bxc3,O-O,Be2,Rc8,O-O,Rxc3,Rfd1,Qc7,Bd3,g6,Qh4,Nf5,Bxf5,exf5,Qh6,Ba4,Rdc1,Rxc1+,Rxc1,Qe7', 'Ng5,f6,exf6,Rxf6,Rc8+', 'https://lichess.org/training/QTHzU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qtL1G', 'Rapid', 'JelSilva_b', 1804, 'edjord24', 1799, 'Nf3,c5,c4,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,e4,Be7,Bd3,d6,O-O,Nf6,Be3,O-O,Qf3,Bb7,Nc3,Qc7,Rad1,Rad8,h3,d5,cxd5,cxd5,Bf4,Qc8,e5,Nd7,Qg3,Rfe8,Bh6,Bf8,Bg5,Be7,Bh6,g6,h4,Nc5,Bc2,Bf8,Bg5,Rd7,h5,d4,Ne2,Ne4,Bxe4,Bxe4,hxg6,Bxg6,Nf4,Bg7,Rfe1,Qc5,Re2,Bxe5,Rde1,Bg7,Qh3,Bf5,Qg3,Bg6,Nxg6,hxg6,Kh1,Qf5,f4,Rd5,Bh4,Qh5,Kg1,Qf5,Bg5,d3,Rd2,f6,Bh4,e5,Qf2,Qxf4', 'Qxf4,exf4,Rxe8+', 'https://lichess.org/training/qtL1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qTLbO', 'Rapid', 'C4NDY17', 1820, 'ROI52', 1760, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,Re1,Nc6,c3,O-O,d4,Qe8,Nbd2,a6,Nf1,h6,Ng3,b5,Bb3,a5,a4,b4,d5,Nb8,Nh4,Nbd7,Nhf5,Nc5,Bc2,b3,Bxb3,Nxb3,Qxb3,Bd7,c4,Rb8,Qc3,Nh7,h4,Bf6,Qf3,Qd8,Qg4,Kh8,Nh5,g6,Bxh6,gxh5', 'Bg7+,Bxg7,Qxg7#', 'https://lichess.org/training/qTLbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qtMCu', 'Blitz', 'Kiasalim8', 2312, 'Doublequarterpounder', 2393, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,g6,Bf4,Bg7,Nf3,O-O,c5,Nc6,Bb5,Ne4,Bxc6,bxc6,O-O,Nxc3,bxc3,Ba6,Re1,e6,Ne5,Bxe5,Bxe5,f6,Bd6,Re8,Qg4,Qd7,f4,Bd3,Re3,Bf5,Qh4,Qg7,Rae1,a5,g4,Be4,f5,gxf5,Rg3,f4,Bxf4,e5,Be3,a4,Rf1,Rf8,Bh6,Qg6,Bxf8,Rxf8,g5,f5,dxe5,Rb8,c4,d4,Rd1,Rd8,Qf4,d3,Re3,Qh5,Rd2,Rb8,Re1,Qh3,e6,Re8,Rxe4,fxe4,Qxe4,Rxe6,Qg2', 'Re1+,Kf2,Qe3#', 'https://lichess.org/training/qtMCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QtnCF', 'Bullet', 'ChessGigant', 2277, 'qwebnmyu', 1851, 'e4,c6,Nf3,d5,Nc3,Bg4,Qe2,Nf6,exd5,cxd5,Qb5+,Qd7,Qb3,Bxf3,gxf3,Nc6,h4,e6,Bh3,Bd6,d3,O-O,Bg5,Nd4,Qa4,Nxf3+,Ke2,Nxg5,hxg5,Ne8,Qxd7,Bc5,Bxe6,fxe6,Qxe6+,Rf7,Rxh7,Nc7,Qg6,Re8+,Kd2,Rxf2+,Kc1', 'Re1+,Nd1,Be3+,Kb1,Rxd1#', 'https://lichess.org/training/QtnCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QToUg', 'Rapid', 'isaac1411', 1890, 'ManPlage1', 1955, 'e4,e5,Bc4,Nc6,Nc3,Nf6,d3,Bb4,Bd2,Bxc3,Bxc3,d5,exd5,Nxd5,Qf3,Be6,Ne2,O-O,O-O,Nxc3,Nxc3,Bxc4,dxc4,Qg5,Ne4,Qg6,c3,Rad8,Rfd1,h6,Rac1,b6,c5,Qe6,cxb6,axb6,b3,Ne7,Ng3,f5,c4,c5,Re1,e4,Qe3,Qe5,f3,Rd3', 'Qxd3,exd3,Rxe5', 'https://lichess.org/training/QToUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qtqNz', 'Blitz', 'Suleyman35', 1566, 'joehaddad00', 1546, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Bf5,Bc4,a6,O-O,Nc6,a3,O-O-O,d3,Nf6,Ng5,Ng4,g3,Nge5,Bxf7,Nxf7,Nxf7,Qf6,Nxh8,Bh3,Ne4,Qe5,Bf4,Qd5,Re1,Rd6,Bxd6,exd6,f3,Nd4,c3,Nb3,Rb1,Qb5,Nf7,Qb6+,d4,d5,Neg5,Qf6,Nxh3,Qxf7,f4,Na5,Qe2,Bd6,Qe8+,Qxe8,Rxe8+,Kd7,Rg8,Nc4,Rxg7+,Ke6,Rxh7,Nd2,Rh6+,Kd7,Rd1,Nf3+,Kf2,Nxh2,Re1,Ng4+,Kf3,Nxh6,Rg1,Nf5,g4,Ne7,g5,Ng6,Kg4,Nxf4,g6,Bf8,Kg5', 'Nxh3+,Kf6,Nxg1,Kf7,Bh6', 'https://lichess.org/training/qtqNz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QtQzl', 'Rapid', 'Um65', 2145, 'jonifarsetepi', 2085, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,g3,g6,Nc3,d6,Bg2,Qc7,O-O,Bg7,f4,O-O,e5,dxe5,fxe5,Ng4,Bf4,Qb6+,Kh1,Nf2+,Rxf2,Qxf2,Bxc6,Bh3,Bxa8,Rxa8,Qe2', 'Bg2#', 'https://lichess.org/training/QtQzl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QTRiw', 'Rapid', 'RodolfoLSRibeiro', 1655, 'AfricanStrong1', 1718, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Qc3,d5,Bb5,Ne7,exd5,Nxd5', 'Bxc6+,bxc6,Qxc6+,Bd7,Qxd5', 'https://lichess.org/training/QTRiw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QTRuT', 'Rapid', 'Rib3iro', 1760, 'tuzik', 1649, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,Bg4,f3,Bd7,O-O,O-O,Nce2,a6,Ng3,b5,Bd3,Nc6,Ndf5,Ne5,Nxe7+,Qxe7,Be2,h6,Kh1,Be6,f4,Nc6,f5,Bc8,Bf3,Ne5,Be2,Bb7,Bf4,Nxe4,Nxe4,Bxe4,Bxe5,Qxe5,Bg4,f6,c3,d5,Re1,Rfe8,Bh5,Re7,Qg4,Qd6,Rad1,c5', 'Rxe4,Rxe4,Qxe4', 'https://lichess.org/training/QTRuT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qTS6W', 'Rapid', 'DalePAH', 1757, 'Xjurkmaster', 1613, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd2,e6,Nc3,Nf6,a3,Qa5,Bb5,Be7,Bxc6,dxc6,Nge2,O-O,O-O,b5,b4,Qc7,Bb2,Bb7,f4,Rad8,Qe1,a6,e5,Ne8,Ng3,c5,Kh1,cxb4,axb4,Bxb4,f5,Qc6,Rg1,Nc7,f6,g6,Nh5,Nd5,Qh4,Bxc3,Ng3,Bd2,Rgd1,Nxf6,Rg1,Nd5,Ne4,Bc3,Bc1,Bxa1,Nf6+,Nxf6,exf6,Bxf6,Qxf6,Rd5', 'Bh6,Qc3,Qxc3', 'https://lichess.org/training/qTS6W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qTSMe', 'Blitz', 'MiloszSz12', 1763, 'Kucaty', 1808, 'e4,f5,Nc3,Nf6,Be2,fxe4,d3,exd3,Qxd3,g6,Be3,Bg7,O-O-O,O-O,Kb1,e5,f3,d6,f4,e4,Nxe4,Bf5,Nxf6+,Bxf6,Qd5+,Kh8,Bd4,c6,Bxf6+,Qxf6,Qxd6,Nd7,Nf3,Nb6,Ne5,Nd5,Qxf6+,Rxf6,Nd3,Re8,Ne5,Ne3,Rc1,Nxc2,Rxc2', 'Bxc2+,Kxc2,Rxf4,Nxg6+,hxg6', 'https://lichess.org/training/qTSMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QTuWd', 'Rapid', 'roneymagalhaes', 1852, 'Hattilla', 1799, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Bb5+,Nc6,O-O,Nf6,Re1+,Be7,Ne5,Bd7,Bxc6,bxc6,d3,O-O,Bg5,Bg4', 'Nxg4', 'https://lichess.org/training/QTuWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qTvBn', 'Rapid', 'pbertol', 1686, 'a_stoykov86', 1656, 'e4,e5,f4,exf4,Nf3,Nc6,Nc3,d6,d4,Bg4,Bd3,Bxf3,Qxf3,Qh4+,g3,fxg3,hxg3,Qf6,Qg2,Nxd4,Bf4,O-O-O,O-O-O,g5,Be3,Kb8,Rhf1,Qe5,Ne2,Nxe2+,Qxe2,Bg7,c3,Qxg3,Rf3,Qg4,Qf2,f6,Rg1,Qd7,Bxa7+,Ka8,Be3,Ne7,b4,d5,Qb2,dxe4', 'Qa3+,Qa4,Qxa4+', 'https://lichess.org/training/qTvBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qTWL1', 'Classical', 'teerdurchzogen', 1641, 'GabrY92', 1627, 'd4,d5,c4,c5,dxc5,d4,Nf3,Nc6,e3,e5,exd4,Nxd4,Nxd4,Bxc5,Nb3', 'Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/qTWL1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qtyAM', 'Blitz', 'Dody0707', 1850, 'mat1983', 1935, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f3,h6,Bh4,Be7,Bd3,Nxe4,Bxe7,Nxc3,Qd2,Qxe7,Qxc3,Bd7,Qc7,Bc6,Qxe7+,Kxe7,O-O,e5,Rae1,Re8,Nf5+,Kf8,Nxd6,Re7,Be4,Bxe4,Rxe4,Nc6,Rfe1,Rd8,Nf5,Re6,c3,Rd2,R4e2,Rxe2,Rxe2,f6,Ng3,Na5,b3,Kf7,Ne4,b6,Kf2,Ke7,g3,Nb7,b4,Nd6,Nd2,Nf5,a4,Rc6,Ne4,Nd6,Nxd6,Kxd6,Re3,Kd5,Ke2,Kc4,Kd2,Kb3,a5,bxa5,bxa5,Ka4,Rd3,Rc7,Rd5,Kb3,Rd6,Rxc3', 'Rb6+,Kc4,Rc6+,Kb5,Rxc3', 'https://lichess.org/training/qtyAM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qtyBI', 'Classical', 'dexi982', 1710, 'cal799', 1848, 'd4,d5,e3,Nf6,Bd3,Bg4,Qd2,e6,h3,Bh5,g4,Bg6,Bxg6,hxg6,g5,Ne4,Qe2,Qxg5,Nf3,Qf5,Nbd2,Rxh3,Rxh3,Qxh3,Nxe4,Qh1+,Kd2,dxe4,Ne5,Na6', 'Qb5+,c6,Qxb7,Bb4+,c3', 'https://lichess.org/training/qtyBI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qTYD2', 'Rapid', 'asturdainty', 1834, 'Supernowa', 1823, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,Nxc6,Nf3,e5,h3,e4,Ng5,Bf5,Bc4,Ne5,Bb5+,Ned7,Qe2,Bc5,Ngxe4,O-O,Bxd7,Bxe4,O-O,Bxc2,Bb5,a6,d3,axb5,Qxc2,Re8,Bg5,h6,Bh4,g5,Bg3,b4,Nd1,Qd5,Kh1,Re6,Ne3,Bxe3,fxe3,Rxe3,Rxf6,Rxg3,Rxh6,Re8,d4,Re6,Qh7+,Kf8,Qh8+,Ke7,Rxe6+,fxe6,Qg7+,Ke8,Qg6+,Ke7,Qc2', 'Rxh3+,Kg1,Qxd4+', 'https://lichess.org/training/qTYD2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QTyhT', 'Blitz', 'GomZ', 1619, 'houstoneagle', 1583, 'e4,d6,Nf3,c6,d4,e6,c4,Nd7,Nc3,Be7,Bd3,b6,b3,Bb7,O-O,h6,Bb2,Qc7,Qd2,O-O-O,a4,g5,h3,f6,b4,h5,Nh2,g4,h4,Nh6,b5,c5,d5,e5,g3,Kb8,Ne2,Bc8,f4,Rdf8,f5,Rf7,Qc3,Rhf8,Bc1,Ng8,Be3,Rh7,Ra2,Bb7,Rfa1,Kc8,a5,Nb8,axb6,Qxb6,Qa5,Qxa5,Rxa5,a6,bxa6,Nxa6,Nc3,Bd8,R5a2,Nb4,Rd2,Kc7,Bc2,Ne7,Re2,Nc8,Nb5+,Kb6,Bd1,Ba6,Rxa6+,Kxa6,Bd2,Nb6,Bxb4,cxb4', 'Ra2+,Kb7,Ra7+,Kb8,Rxh7', 'https://lichess.org/training/QTyhT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QtZPh', 'Classical', 'matiasbaal', 1855, 'Hamza77k', 1868, 'e4,e5,Nf3,d6,d4,Bg4,d5,Nf6,Nc3,h6,h3,Bh5,Be2,Bg6,O-O,Bxe4,Nxe4,Nxe4,Bd3,Nf6,Nh4,Nxd5,Ng6,Rg8,Qg4,Nf6,Qc4,a6,Bf5,Nbd7,f4,fxg6', 'Bxg6+,Ke7,Qf7#', 'https://lichess.org/training/QtZPh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qu1b3', 'Rapid', 'mkmarijan', 1719, 'arnold_737', 1759, 'e4,g6,Bc4,Bg7,d3,d6,Qf3,Nf6,h3,O-O,Nc3,c6,a3,Nbd7,Be3,Ne5,Qe2,Nxc4,dxc4,Qc7,O-O-O,e5,Qd3,Rd8,Nf3,h6,Nxe5,Be6,Nf3,Nd7,Bf4,Ne5,Nxe5', 'dxe5,Qxd8+,Rxd8', 'https://lichess.org/training/Qu1b3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qu1Jt', 'Rapid', 'HerrmannvonHessen', 1531, 'konpfi', 1546, 'd4,d5,Nc3,Nf6,e3,e6,Bd3,Bb4,Bd2,Bxc3,Bxc3,Ne4,Bb4,a5,Ba3,Nc6,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/Qu1Jt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qU20q', 'Rapid', 'Boro-i-Ramiz', 2003, 'TombstoneGrave', 1915, 'd4,Nf6,e3,d5,Bd3,e6,Nf3,c5,c3,Be7,Ne5,O-O,Nd2,Nbd7,f4,cxd4,exd4,Qb6,Ndf3,g6,h4,Bd6,Qe2,Qc7,h5,Nxh5,Rxh5,gxh5,Ng5,Nf6,Bxh7+,Nxh7,Nxh7,f6,Nxf8,fxe5,Ng6,exf4,Qxh5,Qh7,Qg5,Qg7,Bd2,Bd7,O-O-O,Be8,Qg4,Qxg6,Qh3,Kg7,Rh1,Bf7,Qh4,e5,g3,f3,Bh6+,Kg8,Bg5,Qg7,Bf6,Be7', 'Qh8+,Qxh8,Rxh8#', 'https://lichess.org/training/qU20q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qU3Fi', 'Rapid', 'Bigfish39', 1836, 'Kenigsberg72', 1956, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bb2,O-O,Be2,c5,Nf3,cxd4,cxd4,Qb6,Rb1,Qa5+,Nd2,Qxa2,O-O,Nc6,Bc4,Qa5,Nb3,Qg5,f4,Qh4,d5,Bxb2,Rxb2,Bg4,Be2,Bxe2,Qxe2,Nb4,Nd4,a5,Nf3,Qxf4,Nd4,Qe5,Rd2,Rac8,Ra1,b6,Rb1,Rc5,h3,Rfc8,Rdd1,Rc4,Rxb4,axb4,Nc6,Qxe4', 'Nxe7+,Kf8,Qxe4,Rxe4,Nxc8', 'https://lichess.org/training/qU3Fi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qu5H1', 'Rapid', 'jesusavesouls', 1753, 'Saga_1102', 1698, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,Bf5,Qe2,Nc6,Qc4,e6,Ngxe4,Nxe4,Nxe4,Qd7,d3,O-O-O,Be3,Kb8,Nc5,Qd6,b4,Ne5,Qb5,b6,a4,Qc6', 'Na6+,Kc8,Qxe5', 'https://lichess.org/training/Qu5H1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qubpJ', 'Rapid', 'Advenxadrista', 1900, 'NM HarpSeal', 2193, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bb5,Bc5,Bxc6+,bxc6,d4,exd4,Nbd2,O-O,Nxe4,dxe4,Rxe4,Qd5,Re5,Qd6,Bf4,Bb6,Qd3,Qg6,Qxg6,fxg6,Bg3,Bg4,Nd2,Rae8,Rae1,Kf7,h3,Bf5,c3,dxc3,bxc3,Rxe5,Rxe5,Rd8,Nc4,Rd3', 'Rxf5+,gxf5,Ne5+,Ke6,Nxd3', 'https://lichess.org/training/qubpJ');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 29;
-    }
-
-}
\ No newline at end of file
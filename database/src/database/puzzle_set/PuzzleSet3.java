@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet3 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33Tbj', 'Rapid', 'MichaelBoHansen', 1789, 'Misoba', 1819, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Bd6,f4,Ne7,fxe5,Bc5,Nf3,a6,Bxc6+,Nxc6,O-O,Bg4,Qe1,Bxf3,Rxf3,Qe7,d4,Ba7,Ba3,Qd7,Qg3', 'Nxd4,exd4,Bxd4+,Kh1,Bxa1', 'https://lichess.org/training/33Tbj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33uHV', 'Blitz', 'zw324', 1689, 'Medobs', 1686, 'e4,c5,Nf3,Nc6,d4,e6,d5,exd5,exd5,Nce7,d6,Nf5,Qe2+,Be7,dxe7,Ngxe7,Bg5,f6,Be3,Nxe3,Qxe3,Qa5+,Nc3,Kf7,Bc4+,d5,Be2,d4,Bc4+,Kf8,Qd2,dxc3,bxc3,Bg4,Qe3,Re8,O-O,Nf5,Qf4,h5,h3,Bxf3,Qxf3,Nd6,Qd5,Qc7,Rfe1,Rxe1+,Rxe1,Nc8,Rd1,g6,Qd8+,Qxd8,Rxd8+,Kg7,Rxh8,Kxh8,f3,Nd6,Bd3,Kg7,Be4,b6,Kf2,Nxe4+,fxe4,Kf7,Ke3,Ke6,c4,Ke5,g3,f5,exf5,gxf5,c3,a6,a3,a5,a4,Kf6,Kf4,Kg6,h4,Kf6,Kf3,Ke5,Ke3,Kf6', 'Kf4,Ke6,Kg5,b5,cxb5', 'https://lichess.org/training/33uHV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33UXE', 'Rapid', 'disciplant', 1929, 'chesshooter', 1683, 'd4,d5,c4,dxc4,e3,Bf5,Bxc4,e6,Nc3,a6,e4,Bg6,Nf3,Bh5,Be3,Bb4,O-O,Nf6,Bg5,h6,Bxf6,Qxf6,Be2,g5,Qa4+,Nc6,d5,Bxc3,dxc6,b5,Qc2,Bxb2', 'e5,Qe7,Qxb2', 'https://lichess.org/training/33UXE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('33zDn', 'Rapid', 'ikhin', 1768, 'reidy89', 1758, 'd4,e6,d5,d6,Nc3,Nf6,e4,e5,Bg5,Be7,h3,O-O,Bd3,c6,Nf3,cxd5,Nxd5,Nxd5,Bxe7,Nxe7,Qd2,Nbc6,O-O-O,Be6,Kb1,a5,Nh4,Nb4,b3,Nxd3,Qxd3,Nc8,Nf5,Bxf5,exf5,Ra6,g4,Qh4,Qf3,Re8,Qxb7,Ra8,Qxa8,Qxf2,Rhf1,Qe2,Qxa5,Kf8,Qd5,Rd8,g5,Nb6,Qa5,Qe3,g6,hxg6,fxg6,f6,Qa7,Rd7,Qb8+,Ke7,Qg8,d5,Qxg7+,Kd6,Qxf6+,Kc5,g7,Nc4,g8=Q,Na3+,Kb2,Nc4+,bxc4', 'Rb7+,Qb6+,Rxb6+,Ka1,Qc3#', 'https://lichess.org/training/33zDn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('342H3', 'Classical', 'KingSoze', 1827, 'LM playLicht', 2016, 'e4,d5,exd5,Qxd5,Nf3,Nf6,d4,Bg4,Be2,Nc6,h3,Bh5,c4,Qd7,g4,Bg6,d5,Nb4,Ne5,Qd6,Nxg6,hxg6,Nc3,c6,a3,Na6,dxc6,Qxd1+,Bxd1,bxc6,Bf3,Rc8,b4,e6,Bd2,Nb8,g5,Nfd7,c5,Be7,Ke2,Ne5,Be4,Nc4,Bc1,Ne5,f4,Ned7,Be3,e5,f5,gxf5,Bxf5,g6,Bd3,Nf8,Bc4,Rh4,Kd3', 'Rd8+,Kc2,Rxc4', 'https://lichess.org/training/342H3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3443p', 'Rapid', 'Alexruteng', 1823, 'Bugulugu', 1832, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nc6,Nf3,Nf6,O-O,Qe7,e5,Ne4,bxc3,Nxe5,Nxe5,Qxe5,Re1,c6,Bxf7+,Kxf7,Qf3+,Qf6,Qxe4,Be7,Re3,d5,Qc2,Re8', 'Rf3,Qxf3,gxf3', 'https://lichess.org/training/3443p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('345tK', 'Rapid', 'BrazilianGiant', 1883, 'NoneSpecial', 2059, 'e4,e6,a3,d5,exd5,exd5,d4,Nf6,Bb5+,c6,Ba4,Bd6,Qe2+,Be6,Nf3,O-O,O-O,Re8,Bg5,Nbd7,c3,Bg4,Qd3,Bh5,Bc2,Qc7,Bxf6,Nxf6,Ne5,Bxe5,dxe5,Qxe5,f3,Bg6,Qd2,Bxc2,Qxc2,Nh5,Nd2,Qe3+,Kh1,Ng3+,hxg3,Re6,Rfe1', 'Rh6#', 'https://lichess.org/training/345tK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('346jD', 'Rapid', 'Scarecrow404', 1947, 'DaBoon', 2082, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,a6,Bc4,e6,f4,Nge7,O-O,O-O,e5,d5,Bd3,Nb4,Rf3,Nf5,Nxf5,exf5,Rh3', 'd4,Bf2,dxc3', 'https://lichess.org/training/346jD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('348Z1', 'Classical', 'zigy89', 1674, 'E1963', 1692, 'e4,c6,d4,d5,exd5,cxd5,Be3,Nf6,Nd2,Bf5,Be2,Qc7,c3,Nc6,Bg5,h6,Bxf6,exf6,Ngf3,Bd6,Qb3,Be6,Bd3,O-O,O-O-O,Rac8,h3,Nb4,Bb1,a5,a3,Na6,Qc2,g6,Nh4,Kg7,Ndf3,Bf4+,Nd2,b5,Nxg6,Bxd2+,Rxd2,Rg8,Nf4,f5,Nxe6+,fxe6,g4,b4,gxf5,Qf4,fxe6,bxc3,Rg1+,Kf8,Rxg8+,Kxg8,Qh7+,Kf8,e7+,Ke8,Qg8+,Kxe7,Qg7+,Kd6,Qg6+,Kc7,bxc3,Kb8,Qb6+,Ka8,Qxa6+,Kb8,Qd3,Qd6,Rb2+,Ka7,Qh7+,Rc7,Qc2,Qxa3,Qb3', 'Rxc3+,Bc2,Rxb3', 'https://lichess.org/training/348Z1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('34f7Q', 'Rapid', 'Aadarsh100', 1642, 'MaXENce007', 1796, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qf3,Be7,Bc4,b5,Bb3,Bb7,O-O,Nbd7,Qe2,Nc5,f3,Nxb3,Nxb3,O-O,Rad1,Rc8,e5,Ne8,Bxe7,Qxe7,Na5,Ba8,Rfe1,dxe5,Qxe5,Rc5,Qd4,Nf6,Qb4,Nd5,Nxd5,Qa7,Ne3,Rxc2,Kh1,Rcc8,Rc1,Rxc1,Rxc1,Qxe3,Rg1,Rd8,Qe7,Qb6,Nb3,h6,h3,Qd6,Qa7,Bd5,Rd1,Ra8,Qe3,Qg3,Rd4,Qg5,Qd3,Bxb3,axb3,Qc1+,Kh2,Qxb2,b4,Rc8,Kg3,Qc3', 'Rd8+,Rxd8,Qxc3', 'https://lichess.org/training/34f7Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('34goT', 'Rapid', 'Abomoaaz', 1931, 'guillaumepa', 1862, 'e4,e5,Nf3,Nc6,Nc3,Bc5,d3,Nf6,a3,O-O,Be2,d6,Be3,Bxe3,fxe3,Bg4,O-O,Ne7,d4,Ng6,h3,Bh5,Qe1,h6,Rd1,Qe7,Nd5,Nxd5,exd5,exd4,exd4,Nf4,Bc4,Qxe1,Rdxe1,b5,Bb3,a5,Nh4,Ng6,Nxg6,Bxg6,a4,bxa4,Bxa4,Rab8,b3,Bxc2,Rc1,Bxb3,Bxb3,Rxb3,Rxc7,Ra8,Rfxf7,a4,Rxg7+,Kf8,Rh7,Kg8,Rhg7+,Kf8,Rgd7,Ke8,Rh7,Kd8,Rcg7,Re3,Rg8+,Re8,Rgg7,a3,Ra7,Rxa7,Rxa7,Re3,Kf2,Rd3,Ke2,Rxd4,Rxa3,Rxd5,Rf3,Kd7,Rf6,Re5+,Kf3,Re6,Rf4,d5,Rd4,Kd6,Rh4,Rf6+,Ke3,Ke5,Rg4,Rd6,Rh4,d4+,Kd3,Kd5', 'Rxd4+,Ke5,Rxd6', 'https://lichess.org/training/34goT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('34jnN', 'Blitz', 'Tpt69', 2073, 'AkbarKing150', 2094, 'd4,Nf6,Nf3,Nc6,Bf4,d6,Nc3,Bg4,e3,Qd7,Be2,O-O-O,O-O,Kb8,e4,e5,dxe5,Bxf3,exf6,Bxe2,Qxe2,gxf6,Bg3,h5,h4,Ne5,Rad1,Qe6,Qb5,Be7,Qa5,Nc6,Qa4,Rdg8,Nd5,f5,Nxe7,Nxe7,exf5,Qxf5,Qd4,Nc6,Qc3,Rh6,Rd3,Rhg6,Rf3,Qd7,Qb3,f5,Qd5,Ne7,Qd4,Qc6,c4,Rg4,Qe3,Ng6,Rxf5,Nxh4,Rd5,Qxc4,Rfd1,Qc6,b4,a6,a4,Qd7,b5,axb5,axb5,Qf7,Kh2,Nf5,Qf3,Nxg3,Qxf7', 'Rh4+,Kg1,Rh1#', 'https://lichess.org/training/34jnN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('34jUV', 'Rapid', 'koureas25', 1814, 'xtornasol512', 1871, 'd4,d5,c4,dxc4,e3,e5,Bxc4,exd4,Qb3,Qe7,Nf3,dxe3,O-O,c6,Re1,Kd8,Bxe3,Nf6,Bb6+,axb6,Rxe7,Bxe7,Qxb6+,Ke8,Ne5,Rf8,Nc3,Nbd7,Nxd7,Nxd7,Qe3,Kd8,Re1,Bd6,Ne4,Be7,Ng3,Bf6,Nf5,Ra5,f4,Kc7,g4,Nb6,Bb3,g6,g5,Bd8,Nh6,Nd5,Bxd5,Rxd5,Kh1,Be6,Qa3,Rd6,b4,Bd5+,Kg1,Kd7,Qa7,Kc7,a4,f6,h4,fxg5,fxg5,Rf4,b5,c5,a5,Rxh4,Qxc5+,Kd7,Rd1', 'Rh1+,Kf2,Rxd1', 'https://lichess.org/training/34jUV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('34Ml3', 'Classical', 'Sangte', 1858, 'Nezhmet', 1831, 'e4,c5,Nf3,d6,e5,Nc6,Bb5,Bd7,exd6,e6,c3,Bxd6,O-O,Nf6,Re1,O-O,d4,a6,dxc5,Bxc5,Bd3,Qb6,Qc2,Ng4,Nd4,Nxd4,cxd4,Bxd4,Be3,Nxe3,fxe3,Bxe3+,Kh1,Rac8,Nc3,g6,Qe2,Bh6,Rad1,Bg7,Bxg6,hxg6,Rxd7,Rc5', 'Na4,Qb5,Nxc5', 'https://lichess.org/training/34Ml3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('34qAy', 'Blitz', 'Yarmola', 1921, 'everton1878', 1925, 'e4,c5,Nf3,e6,d4,d5,e5,Nc6,c3,Qb6,Qb3,Qc7,Be2,cxd4,cxd4,Nge7,O-O,Nf5,Qd1,Qb6,Be3,Qxb2,Nbd2,Qb6,Rb1,Qc7,Nb3,Nxe3,fxe3,Be7,Nfd2,O-O,e4,f6,exd5,exd5,e6,Bxe6,Nc5,Bf7,Rxb7,Qa5,Nd7,Rfd8,Bb5,Nxd4,Re1,Bb4,Nxf6+,gxf6,Qg4+,Bg6,Qxd4,Bxd2,Qxf6,Bc3,Qe6+,Kh8,Qe7,Re8,Bxe8,Rxe8', 'Qxe8+,Bxe8,Rxe8#', 'https://lichess.org/training/34qAy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('34UUn', 'Rapid', 'RSaftawy', 1865, 'benny_kj', 1823, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,d6,a4,a6,O-O,Nf6,d4,cxd4,Nxd4,Be7,Nf3,Qc7,Bd3,O-O,Bg5,Nb4,Be2,h6,Bh4,b6,Nd4,Bb7,Bf3,Nc6,Nxc6,Bxc6,Bg3,Qa7,b4,Qb7,b5,axb5,axb5,Rxa1,Qxa1,Bxe4,Nxe4,Nxe4,Re1,d5,Qe5,Bd6,Qd4,Nxg3,hxg3,Rc8,c3,Rc4', 'Qxc4,dxc4,Bxb7', 'https://lichess.org/training/34UUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('34V09', 'Blitz', 'Drj00', 1528, 'iva2n', 1518, 'd4,d5,c4,dxc4,e3,Bf5,Nc3,a6,Bxc4,b5,Bd3,Bxd3,Qxd3,e6,a3,Nf6,Nf3,Bd6,e4,b4,axb4,Bxb4,O-O,O-O,Bg5,c5,Bxf6,Qxf6,d5,exd5,exd5,Rd8,Rfd1,Nc6,Rxa6,Rxa6,Qxa6,Bxc3,bxc3,h6,c4,Rd6,Re1,Nb4,Re8+,Kh7,Qc8,Qa1+,Re1,Qc3,Qf5+,Rg6,Qe4,Nd3,Re3,Qc1+,Ne1,Qd2,g3', 'Qxf2+,Kh1,Qf1#', 'https://lichess.org/training/34V09');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('34VGO', 'Rapid', 'rodrigoBRmarkito', 1746, 'marco211062', 1761, 'Nf3,d5,d4,c5,c3,Nc6,g3,Bf5,Bg2,Be4,O-O,e6,Nbd2,Bg6,Re1,c4,Nf1,Be7,Bf4,Nf6,Nh4,Be4,f3,Bg6,e4,dxe4,fxe4,Bh5,Bf3,Bxf3,Qxf3,h6,Bd2,Nd7,d5,Nce5,Qh5,Bc5+,Kh1,Nf6', 'Qxe5,Bd6,Qd4', 'https://lichess.org/training/34VGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('34yw7', 'Rapid', 'zarovv', 1874, 'nas77', 2039, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Nb3,b5,Bd3,b4,Ne2,Bb7,Ng3,Nbd7,O-O,Be7,Be3,O-O,f4,Qc7,Kh1,Rac8,e5,dxe5,fxe5,Qxe5,Bd4,Qd5,Qe2,Rfd8,Rad1,g6,Bxf6,Nxf6,Bxg6,Qxg2+,Qxg2,Bxg2+,Kxg2,hxg6,Rxd8+,Rxd8,Rf2,Ng4,Re2,Nf6,Na5,Rd5,Nc6,Bd6,c3,bxc3,bxc3,Rd1,Rf2,Nd5,Nd8,f5,Nxe6,Nxc3,Rc2,Be5,Ne2,Nd5,Rc8+,Kh7,Ng1,Rd2+,Kf1,Rxh2,Nf3,Ne3+,Kg1,Rg2+,Kh1,Bg3', 'Nfg5+,Kh6,Rh8#', 'https://lichess.org/training/34yw7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('35A77', 'Rapid', 'Jazzmann', 2087, 'Timegod', 2078, 'd4,d5,Nf3,c6,g3,Nf6,Bg2,Bg4,O-O,Nbd7,Re1,e6,c3,Bd6,Nbd2,Qc7,e4,dxe4,Nxe4,Nxe4,Rxe4,Bf5,Re1,h5,Nh4,O-O-O,Nxf5,exf5,Bh3,h4,Kg2,hxg3,hxg3,f4,Qf3,fxg3,fxg3,Kb8,Bd2,Nf6,Bg5,Rdg8,Bxf6,gxf6,g4,f5,Qxf5,Rxh3,Kxh3,Bh2,Qf3,Qd6,Re3,Rh8+,Kg2,Bf4,Re2,Qh6,Rg1,Bg5,Kf1,Qg6,Qf5,Qh6,Qxf7,Qh3+,Ke1,Bh4+,Kd1', 'Qd3+,Rd2,Qb1+', 'https://lichess.org/training/35A77');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('35DnQ', 'Blitz', 'capamachine', 1792, 'Velloz', 1740, 'e4,c6,d4,e6,c4,d5,exd5,cxd5,Nc3,Bb4,cxd5,Qxd5,Nf3,Nc6,Bd2,Qa5,Bb5,Ne7,Ne5,Bxc3,Bxc6+,Nxc6,Bxc3,Qc7,Qa4,Bd7,Nxd7,Qxd7,O-O,O-O,Rad1,Qd5,f4,Ne7,Rf3,Nf5,Qc2,Rac8,Rh3,g6,Qd3,Qxa2,g4,Ne7,Qg3,Qd5,Qh4,h5,gxh5,Qxh5,Qxh5,gxh5,Kf2,Nd5', 'Rg1+,Kh7,Rxh5#', 'https://lichess.org/training/35DnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('35eKV', 'Rapid', 'jo_he555', 1771, 'OlafArmin', 1794, 'c4,e5,e4,Bc5,Nc3,c6,d3,Nf6,Nge2,Ng4,d4,exd4,Nxd4,Qf6,Qxg4,Bxd4,Qe2', 'Bxc3+,bxc3,Qxc3+,Qd2,Qxa1', 'https://lichess.org/training/35eKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('35I2c', 'Classical', 'mshams', 1699, 'Nezhetdinov_2', 1653, 'c4,Nf6,Nc3,e5,Nf3,Nc6,g3,e4,Ng5,h6,Ngxe4,Nxe4,Nxe4,d5,Nc3,d4,Nd5,b5,b3,bxc4,bxc4,Bb7,Bg2,Bc5,O-O,O-O,d3,Ne5,Bf4,Bd6,Ne7+,Qxe7,Bxb7,Rab8,Rb1,c6,Bxe5,Bxe5,Bxc6,Rfc8,Rxb8,Rxb8,Qc2,f5,Rb1,Rxb1+,Qxb1,Qd6,Bd5+,Kh7,e3,dxe3,d4,exf2+,Kf1,Bxd4', 'Qxf5+,Qg6,Bg8+,Kxg8,Qxg6', 'https://lichess.org/training/35I2c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('35mBg', 'Blitz', 'GM ArkadijNaiditsch', 2793, 'DmDonCh', 2744, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,f4,a6,Nxc6,Qxc6,Bd3,b5,Qe2,Bb7,Bd2,Rc8,O-O-O,b4,Nd5,Qa4,Kb1,exd5,exd5+,Kd8,Be3,Bc5,Bxc5,Rxc5,Rhe1,Nf6', 'Qe7+,Kc7,Qxc5+', 'https://lichess.org/training/35mBg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('35oaB', 'Blitz', 'marniximo', 1501, 'Marufjon0033', 1598, 'e4,e5,Nf3,Bc5,Bc4,d6,c3,Be6,Bxe6,fxe6,d4,exd4,cxd4,Bb6,O-O,Nf6,e5,Ne4,exd6,Qxd6,Re1,Nf6,d5,O-O,dxe6,Re8,Qxd6,cxd6,Nc3,Nc6,Bg5,h6,Bxf6,gxf6,Nd5,Kg7,Rab1,Ne5,Nxe5,dxe5,e7,Bc5,b4,Bxe7,Nxe7,Rxe7,Rbc1,Rd7,Re2,Rad8,g3,b6,Kg2,h5,h4,Kf7,Rcc2,Rd4,a3,R8d7,Kf3,Rd3+,Ke4', 'R7d4+,Kf5,Rf3#', 'https://lichess.org/training/35oaB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('35OL8', 'Blitz', 'birbetta', 1623, 'hamzhao', 2004, 'e4,e6,d4,b6,Nc3,Bb7,Nf3,Nf6,Bd3,Bb4,Bd2,Bxc3,Bxc3,Bxe4,O-O,O-O,Qe2,Bxd3,Qxd3,d5,Ne5,c5,Qd1,Qc7,Qf3,Nbd7,Nxd7,Qxd7,dxc5,bxc5,Bxf6,gxf6,Qxf6,Qd8,Qe5,Qe7,f4,f6,Qh5,Kh8,Rf3,Rg8,Raf1,f5,Kh1,Rg6,h3,Rag8,Rg1,Qg7,Rf2,Rh6,Qf3,Qg3,c3', 'Rxh3+,gxh3,Qxg1#', 'https://lichess.org/training/35OL8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('35pnM', 'Rapid', 'vivioo7', 1806, 'bastok', 1822, 'e4,e5,Nf3,Nc6,Bb5,d6,d3,a6,Ba4,b5,Bb3,Na5,Bg5,Be7,Bxe7,Qxe7,Nc3,Bb7,O-O,Nf6,h4,Ng4,Ng5,Bc8,Bxf7+,Kf8,Bb3,Qf6,Nd5,Qg6,Nxc7,Ra7,Nce6+,Bxe6,Bxe6,Nf6,Bf5,Qh6,Ne6+,Ke7,g3,g6,Bh3,Nc6,c3,b4,Qa4,Rc8,Ng5,bxc3,Bxc8,Nd4,bxc3,Ne2+,Kh1,Qh5,Qc2,Rc7,Bxa6,h6,Nh3', 'Qf3+,Kh2,Ng4#', 'https://lichess.org/training/35pnM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('35qOI', 'Rapid', 'Paulito1962', 1709, 'TheBossfan02', 1762, 'e3,d5,h3,c5,Ne2,Nf6,g4,Nc6,Ng3,h6,d3,d4,e4,e5,Be2,Be7,Nd2,Nd7,Nf3,Bh4,Nf5,Bf6,h4,a6,Rg1,Nf8,g5,hxg5,hxg5,Bxf5,gxf6,Qxf6,exf5,Qxf5,Rxg7,Ng6,Ng5,Nd8,Bg4', 'Rh1+,Ke2,Qxg4+', 'https://lichess.org/training/35qOI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('35UmN', 'Blitz', 'IM lovlas', 2550, 'Dozer-1234', 2478, 'd4,Nf6,f3,c5,d5,e5,c4,d6,e4,Be7,Nc3,O-O,Be3,Na6,Qd2,Nc7,Bd3,Nd7,Nh3,Bh4+,Nf2,a6,O-O,Rb8,a4,Bxf2+,Qxf2,Qe7,Rae1,a5,f4,exf4,Bxf4,Ne5,Qg3,f6,b3,Na6,Nb5,Bd7,Bb1,Nb4,Nc7,Bc8,Nb5,Bd7,Nc3,b6,Nd1,Rbe8,Ne3,Bc8,h4,Kh8,h5,h6,Nf5,Bxf5,exf5,Qf7,Qh3,Re7,Re3,Rfe8,Rfe1,Na6,Bc2,Nb4,Bb1,Na6,g4,Nc7,Qg3,Na6,Kh2,Nc7,Bc2,Na6,Bd1,Nb4,Re4,Na2,R1e3', 'Nxg4+,Bxg4,Rxe4,Rxe4,Rxe4', 'https://lichess.org/training/35UmN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('35xkc', 'Rapid', 'Van_Motman', 1939, 'heliojean', 1865, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Bd2,Bb7,Bd3,O-O,Nge2,Bxg2,Rg1,Bf3,Qc2,Bxe2,Kxe2,Bxc3,Bxc3,d5,Rg2,Ne4,Bxe4,dxe4,Qxe4,Nd7,Rag1,g6,h4,Nf6,Qe5,Nh5,d5,f6,Qxe6+,Kh8,f4,Re8,Qc6,Nxf4+,Kf2,Nxg2', 'Bxf6+,Kg8,Bxd8', 'https://lichess.org/training/35xkc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('360iB', 'Rapid', 'Kucan', 2239, 'surema', 2285, 'c4,e5,g3,Nf6,Bg2,Bc5,e3,O-O,Ne2,c6,Nbc3,d5,cxd5,cxd5,d4,exd4,Nxd4,Nc6,Nb3,Bb4,Bd2,d4,exd4,Nxd4,Nxd4,Qxd4,O-O,Bg4,Qc2,Rad8,Be3,Qd7,Bxa7,Bh3,Bb6', 'Bxg2,Kxg2,Qc6+,Kg1,Qxb6', 'https://lichess.org/training/360iB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('36GVo', 'Blitz', 'Sebastian127', 1782, 'ErmanSenyurek', 1773, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Nxc6,dxc6,Bd3,O-O,h3,Re8,O-O,Be6,Be3,Bxe3,fxe3,c5,b3,a6,a4,Qe7,Qf3,Rad8,Rad1,Bd7,Qf4,Bc6,g4,Nxe4,Bxe4,Rxd1,Rxd1,Bxe4,Nxe4,Qxe4,Qf2,g6,Rd3,b5,axb5,axb5,Kf1,c4,bxc4,bxc4,Rc3,Qh1+,Ke2,Qxh3,Rxc4,h5,Rxc7,Qxg4+,Ke1,Qb4+,Kf1,Qb5+,Kg1,Qe5', 'Qxf7+,Kh8,Qh7#', 'https://lichess.org/training/36GVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('36j3w', 'Classical', 'EBSK228', 1761, 'VozmilovLev', 1716, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d5,c4,dxc4,Na3,Be6,Qc2,c6,Ne5,Na6,Rd1,Bd5,e4,Be6,Naxc4,Nb4,Qc3,a5,a3,b5,Ne3,Qb6,axb4,axb4,Rxa8,bxc3,Rxf8+,Bxf8,bxc3,Bb3,Rd2,e6,Rb2,Ba4,c4,Ba3,c5,Qa5,Bd2,b4,Ra2,Qb5,Bf1,Qb7,f3,Ne8,N3c4,Bb3', 'Na5,Qc7,Nxb3', 'https://lichess.org/training/36j3w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('36O0N', 'Rapid', 'Coal_Timber', 1850, 'zazziki', 1976, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,Nf3,Bg4,h3,Bh5,g4,Bg6,d3,Nc6,Bg5,e6,Nc3,h5,Nh4,Bb4,Nxg6,fxg6,f3,d4,Kd2,dxc3+,bxc3,Ba5,Qe2,Nd4,Qf2,Nxb3+,axb3,Qc7,Qd4,Rc8', 'Qa4+,Kf7,Qxa5', 'https://lichess.org/training/36O0N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('36ODr', 'Rapid', 'Sarthak1405', 1804, 'prakashgaryar', 1800, 'e4,e5,Bc4,Bc5,Qh5,Qf6,Nf3,g6,Qxe5+,Qxe5,Nxe5,Nh6,d3,d6,Bxh6,dxe5,Nc3,Nc6,Nd5,Bb6,c3,Be6,Nf6+,Ke7,Bxe6,Kxe6,Ng4,f5,exf5+,gxf5,Ne3,Rhg8,Nc4,Rxg2,Nxb6,axb6,Be3,f4,Bd2,Rag8,Ke2,R8g6,Kf3,Nd8,Rae1,Nf7,Bxf4,Kf5,Bg3,R2xg3+,hxg3,Rd6,Rxh7', 'Ng5+,Ke2,Nxh7', 'https://lichess.org/training/36ODr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('36rIv', 'Rapid', 'juantsu23', 2027, 'pablo-paul', 1925, 'e4,g6,d4,f6,Nf3,Bh6,Bc4,e6,Nc3,c6,O-O,b6,Re1,b5,Bd3,Na6,a3,Nc7,Be3,Kf8,Qd2,Bxe3,Qxe3,Kg7,Rad1,Nh6,h3,Nf7,b4,Re8,Qf4,Bb7,Qg3,Qc8,h4,a5,Na2,Rg8,Nc1,axb4,axb4,Ra1,Nb3,Rxd1,Rxd1,Rd8,Ra1,Na6,c3,Qb8,e5,f5,Ng5,h6,Nxf7,Kxf7,f4,Rg8,Qh3,h5,Ra2,Nc7,Nc5,Nd5,Qg3,Bc8,Qg5,Qc7,Ra3,Qd8,Qg3,Qc7,Qg5,Qd8,Qg3,Qc7,Rb3,Qd8,c4,bxc4,Bxc4,Nc7,b5,cxb5,Bxb5,Nd5,Bc4,Nc7,Ra3,Ke8,Ra7,Rg7,Qf2,Re7,g3,d5,exd6,Qxd6,Qb2,Kf7,Nb7,Qc6,Bb5,Nxb5', 'Nd8+,Kf8,Nxc6', 'https://lichess.org/training/36rIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('36zeN', 'Classical', 'borycki', 1699, 'DrPubStarZ', 1827, 'Nf3,c5,c4,g6,d4,Bg7,dxc5,Qa5+,Bd2,Qxc5,Qb3,Nf6,e3,O-O,Nc3,d6,O-O-O,a5,Qb5,Na6,Na4,Qxb5,cxb5,Nc5,Nb6,Ra7,Nxc8,Rxc8,Kb1,Nfe4,b6,Raa8,Rc1,Nxf2,Rg1,Ncd3,Rxc8+,Rxc8,Bxd3,Nxd3,Nd4,a4,Bc3,a3,Nb5,axb2,Bxg7', 'Rc1+,Rxc1,bxc1=Q#', 'https://lichess.org/training/36zeN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('370Gk', 'Rapid', 'joselito84', 1930, '-LEXX-', 1784, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Nc3,a6,Bxc6,Bxc6,dxe5,dxe5,Qxd8+,Rxd8,Nxe5,Nf6,Nxc6,bxc6,O-O,Bb4,Bg5,h6,Bxf6,gxf6,Rad1,O-O,Rxd8,Rxd8,Rd1,Bd6,g3,Kf8,Kf1,Ke7,Ke2,Rb8,b3,Ke6,Rd3,Bb4,Nd1,Ke5,f3,Ke6,Ne3,h5,Nf5,Rg8,c3,Bd6,c4,c5,Rd5,a5,f4,Kd7,Kf3,Ke6,Ne3,Rh8,h3,c6,Rd1,Bc7,Rd2,Ra8,Nd1,a4,Nc3,axb3,axb3,Ba5,Rd3,Rb8,Nd1,Bb4,Ne3,Ra8,Nf5,Ra3,Ng7+,Ke7,Nxh5,Ba5,g4,Ra1,Ng3,Be1,Nf5+,Ke8,Ke2,Ba5,Rd6,Ra2+,Kd3,Rh2,h4,Rh3+,Kc2,Rc3+,Kb2,Rf3,Rxf6', 'Bc3+,Kc2,Bxf6', 'https://lichess.org/training/370Gk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37bHZ', 'Classical', 'The_Wind', 1970, 'MarySweet', 1854, 'c4,Nf6,g3,e6,Bg2,c6,Nf3,d5,cxd5,exd5,O-O,Bd6,d4,O-O,Bg5,h6,Bxf6,Qxf6,Nc3,Bf5,Qb3,b6,Rfe1,Nd7,e4,dxe4,Nxe4,Bxe4,Rxe4,Rae8,Rae1,Rxe4,Rxe4,c5,Qd5,b5,dxc5,Nxc5,Rd4,Rd8,Qc6,a6,b3,Bf8', 'Qxf6,gxf6,Rxd8', 'https://lichess.org/training/37bHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37bwS', 'Classical', 'maurobrivio90', 1871, 'yo_envio', 2143, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d5,Bg5,dxc4,e3,Bd7,Bxc4,b5,Bd3,h6,Bxf6,Qxf6,a3,Bxc3+,Qxc3,Bc6,f3,O-O,e4,Qf4,Ne2,Qh4+,g3,Qe7,O-O,a5,Rac1,Rd8,Qc5,Qd7,Qh5,b4,Qg4,Bb5,Rfd1,Bxd3,Rxd3,Qb5,Nf4,e5,Nh5,g6,Rcd1,Nc6,d5,Nd4,Kg2,bxa3,bxa3,Nc2,Nf6+,Kg7,Nh5+,Kh7,Nf6+,Kg7,Nh5+,Kf8,Nf6,Qb2,Kf1,Kg7,Nd7,Qb5,Kg2,Rxd7,Rc3,Nxa3,Rxa3,Qe2+,Kh3,Qxd1,Qxd7,Qf1+,Kg4,h5+,Kh4,Qc1,Qe7,Qb2,Kg5,Re8,Qf6+,Kf8,Rxa5', 'Qd2+,f4,Qxa5', 'https://lichess.org/training/37bwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37bXV', 'Rapid', 'fedara', 2091, 'region19', 2077, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,O-O,Be3,Ng4,Qd2,c6,O-O-O,Nd7,h3,Nxe3,Qxe3,e5,dxe5,dxe5,f5,Qe7,g4,f6,Bc4+,Kh8,h4,b5,Bb3,Nc5,h5,g5,h6,Nxb3+,axb3,a5,hxg7+,Kxg7,Rh2,a4,Rdh1,Rh8,bxa4,b4,Na2,Rxa4,Qb3,Qa7,Kb1,c5,c3,bxc3,Nxc3,Ra1+,Kc2,Rxh1,Rxh1,Ba6,Qe6,Bc8,Qd6,c4,Nd5,Qf7,Qe7,Bb7,Qxf7+,Kxf7,Kc3,Kg7,Kxc4,Rc8+,Kd3,Ba6+,Kd2,Rb8,Kc1,Rb3,Nc3,Rb4,Rd1,Rb7,Rd6,Bf1,Nd5,Rf7,b4,Bg2,Nd2,Bh3,b5,Bxg4,b6,Be2,Rc6,Ba6,Rc7,h5,Rxf7+,Kxf7,Nc7,Bb7,Nc4,Ke7,Na5,Bxe4,Kd2', 'h4,Nb5,h3', 'https://lichess.org/training/37bXV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37EKF', 'Rapid', 'Parjun', 1842, 'gmasterTR', 1994, 'e4,c6,a3,d5,e5,Bf5,d4,e6,h3,c5,Be3,Nd7,c3,Rc8,Qa4,cxd4,Bxd4,Qg5,Nd2,Bc5,Bxc5,Rxc5,Qxa7,Ne7,Ngf3,Qg6,Qa8+,Rc8,Qxb7,O-O,Qxd7,Rce8,a4,Bd3,a5,Bxf1,Rxf1,Qxg2,O-O-O,Nf5,Rg1,Qxf2,Rdf1,Qe3,Re1,Qd3,h4,Ne3,Nd4,Ra8,N2b3,Rfc8,Rg3', 'Rxc3+,bxc3,Qxc3+,Kb1,Qxe1+', 'https://lichess.org/training/37EKF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37eLN', 'Rapid', 'Iodiene', 1886, 'Nusky', 1746, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Nf3,e6,Bf4,Bd6,Bg5,a6,a3,O-O,Bd3,b5,O-O,Nbd7,h3,h6,Bh4,Qc7,Re1,b4,Na2,bxa3,Ne5,axb2,Nxd7,Bxd7,Rb1,Be7,Qf3,Rfb8,c3,Bb5,Bxb5,Rxb5,Re2,Rab8,Nb4,Bxb4,cxb4,Rxb4,Bg3,Qc1+,Re1,Qxe1+,Rxe1,b1=Q,Rxb1,Rxb1+,Kh2,R8b3,Qe2,a5,Qa6,Ra1', 'Qc8+,Kh7,Qc2+,Ne4,Qxb3', 'https://lichess.org/training/37eLN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37kPP', 'Rapid', 'zashem', 1834, 'kam49', 1847, 'd4,d5,Bf4,e6,e3,h6,Nf3,Nf6,h3,Nbd7,Nbd2,Bd6,Ne5,O-O,g4,Ne4,h4,Bxe5,dxe5,f6,Nxe4,dxe4,exf6,Nxf6,Qe2,Nd5,O-O-O,Qe7,Bg3,Qf7,g5,h5,Bg2,g6,Bxe4,c6,Qd3,Kh7,a3,Bd7,c4,Nb6,Rhf1,Rae8,Qe2,Kg8,Bd6,e5,Bxf8,Rxf8,Qd3,Kg7,b3,Bf5,f4,Qe6,fxe5,Qxe5,Bxf5,gxf5,Kb1,Rf7,e4,f4,Qf3,Kg6,Rd2,Nd7,Rfd1,Nc5,Rd6+,Kg7,Qxh5,Qxe4+,Ka2', 'Qc2+,Ka1,Nxb3#', 'https://lichess.org/training/37kPP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37Ojq', 'Rapid', 'oluap', 1786, 'estevaobrandao', 1813, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be3,Be7,Bc4,a6,a3,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,e5,Nf3,Qxd1+,Rxd1,O-O,Nxe5,Nc6,Nxc6,bxc6,Bxc6,Rb8,Ba7,Rxb2,Be4,Bxa3,O-O,Re8,h3,g6,Bd3,Bf5,Bxf5,gxf5,Rd5,Rxc2,Rxf5,Ree2,Rg5+,Kf8,Bd4,Bb4,Rd1,a5,Bf6,Be7,Bg7+,Ke8,Rxa5,f6,Rf1,Kf7,Bh6,Kg6,Be3,Bd6,g4,h6,Rd1,Be5,Rd7', 'Re1+,Kg2,Rxe3', 'https://lichess.org/training/37Ojq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37Poj', 'Blitz', 'srchoudhary', 1811, 'e2h6', 1794, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Be2,O-O,Qd2,Nbd7,O-O-O,Re8,Bh6,Nf8,Bxg7,Kxg7,h4,e5,Nf3,Ng4,h5,Nxf2,h6+,Kg8,Ng5,Nxh1,Rxh1,f6,Nf3,Bg4,Bc4+,Be6,Nd5,a6,Rf1,b5,Bb3,Nd7,Nh4,Kh8,a3,a5,Ne3,Bxb3,cxb3,Rc8+,Kb1,f5,g3,Qg5,exf5,Qxg3,fxg6,Qxh4', 'g7+,Kg8,Qd5+,Re6,Qxe6#', 'https://lichess.org/training/37Poj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37SVY', 'Rapid', 'Vlnguy', 1661, 'Lucifer83', 1777, 'e4,c5,d4,cxd4,Nf3,d6,Bc4,e5,O-O,h6,c3,Nc6,cxd4,Nxd4,Nxd4,exd4,Qxd4,Nf6,Re1,Be7,e5,dxe5,Bb5+,Bd7,Bxd7+,Qxd7,Qxe5,Kf8,Nc3,Bb4,Rd1,Re8,Rxd7,Rxe5,Rd8+,Ke7,Bf4,Rxd8,Bxe5,Rd2,Re1,Kd7,Bxf6,gxf6,Ne4,Rxb2,Nxf6+,Kc6,Rc1+,Kb5,Nd5,Rxa2,Rb1,a5', 'Nc3+,Kc6,Nxa2', 'https://lichess.org/training/37SVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37U9k', 'Rapid', 'christianjavan', 1547, 'Druid734', 1531, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d4,exd4,Nd5,Nxe4,O-O,O-O,Re1,Nf6,Nxf6+,Qxf6,b3,a6,Bb2,b5,Bd3,Bb7,Qd2,Nb4,Be4,Bxe4,Rxe4,d6,Nxd4,Qg6,Rae1,a5,Nxb5,a4,Qe2,h6,Nxc7,axb3,axb3,Ra2,c3,Nd3,Qxd3,Rxb2,Nd5,Bxf2+,Kh1,Bxe1', 'Ne7+,Kh8,Nxg6+,fxg6,Rxe1', 'https://lichess.org/training/37U9k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37uV7', 'Rapid', 'pmusa', 1604, 'Mr_Hansson', 1633, 'e4,d5,d4,Nc6,e5,f6,Bb5,Bd7,Nc3,fxe5,Bxc6,exd4,Bxd7+,Qxd7,Nce2,e5,Ng3,O-O-O,Nf3,Bd6,O-O,Nf6,Bg5,Rdf8,Qd3,e4,Nxe4,dxe4,Qxd4,exf3,Qxa7,c6,g3,Qc7,Rae1,h6,Be3,Qb8,Qd4,Ne8,Qg4+,Kc7,c4,h5,Qh4,Qd8', 'Bb6+,Kxb6,Qxd8+', 'https://lichess.org/training/37uV7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37vYq', 'Rapid', 'RodrigoOliver', 1992, 'goltrpoat', 2060, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,Bc4,e6,h5,Bh7,Bf4,Ngf6,Ne5,Nd5,Bd2,Nxe5,dxe5,Be7,Qe2,O-O,Bd3,Bxd3,cxd3,Qb6,O-O,Rad8,Ne4,Rd7,Qg4,Kh7,Rad1,Qxb2,f4,Qd4+,Kh1,Ne3,Bxe3,Qxe3,f5,exf5', 'Qxf5+,Kh8,Qxd7', 'https://lichess.org/training/37vYq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37Wcu', 'Rapid', 'solidshield', 1753, 'mdklib', 1772, 'c4,g6,Nc3,Bg7,d4,e6,e4,b6,Nf3,Bb7,Bd3,Ne7,Be3,d5,e5,dxc4,Bxc4,O-O,O-O,Nf5,Bf4,Bxf3,Qxf3,Qxd4,Qxa8,Qxc4,Bg3,Nxg3,hxg3,Nd7,Qxa7,Nxe5,Rac1,Qg4,Qxc7,Qh5,Rfd1,Ng4,Kf1,Nh2+,Ke1,Be5,Qc4,Qf5,Qe4', 'Bxc3+,Rxc3,Qxe4+', 'https://lichess.org/training/37Wcu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37XGf', 'Blitz', 'hippotiger', 1985, 'sallam321', 2042, 'Nf3,d5,d3,c5,Bd2,Nc6,Bc1,Nf6,Nbd2,e5,e4,Bd6,c3,d4,Qc2,Bc7,Be2,O-O,h3,h6,g4,Nh7,Nf1,Be6,Ng3,f6,Rg1,Ng5,h4,Nxf3+,Bxf3,g5,Nf5,Bxf5,gxf5,Kg7,hxg5,hxg5,Bd2,dxc3,bxc3,Bb6,Be2,Rh8,Qc1,Kf7,Bxg5,fxg5,Rxg5,Rg8,Bh5+,Kf6,Rg3,Rxg3,Qh6+,Ke7', 'Qe6+,Kf8,Qf7#', 'https://lichess.org/training/37XGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('37zBC', 'Classical', 'Youcandothis', 1860, 'ramy80', 1728, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nf3,Bc5,d4,Bb4+,Bd2,Qe7,d5,Bxd5+,Qe2,Bxf3,Qxe7+,Bxe7,gxf3,Nc6,Bg5,O-O-O,Bh3+,Kb8,O-O,h6,Be3,a6,Nd2,Ne5,f4,Neg4,Bxg4,Nxg4,Rad1,Nxe3,fxe3,Bc5,Rf3,Rhe8,Kf2,Rd3,h4,Rdxe3,Rxe3,Bxe3+,Kf3,g5,fxg5,hxg5,Re1,g4+,Kxg4', 'Rg8+,Kf5,Bxd2', 'https://lichess.org/training/37zBC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('38etU', 'Blitz', 'mostar', 1726, 'tutansetamon99', 1780, 'e4,c5,Bc4,d6,c3,Nf6,d3,g6,Nf3,Bg7,Bg5,O-O,O-O,Nc6,Nbd2,Rb8,h3,b5,Bb3,a5,a3,Ba6,Ba2,Qb6,Be3,b4,c4,Nd7,Rc1,Bxb2,Rb1,Bxa3,Bh6,Rfc8,Ng5,Nde5,Ndf3,Nxf3+,Qxf3,f6,Ne6,Ne5,Qg3,a4,f4,Nf7,f5,g5,Bxg5,fxg5,Nxg5,Nxg5,Qxg5+,Kh8,Qxe7,Rg8,Rf4,Rbf8,Rh4,Rg7,Qe6,Rfg8,Qf6,Qc7', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/38etU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('38fTa', 'Rapid', 'ifanmich', 1940, 'oliashley', 1880, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,e3,O-O,Bd3,h6,Ne2,d5,O-O,Nc6,a3,Bxc3,bxc3,cxd4,cxd4,b6,Bd2,Bb7,Rfd1,Rc8,Qa2,Ne7,Rdc1,dxc4,Rxc4,Qd5,Rxc8', 'Qxg2#', 'https://lichess.org/training/38fTa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('38Mf0', 'Classical', 'PoppyHammer', 1688, 'albertomf', 1887, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Bf5,Bc4,e6,Nf3,Nf6,O-O,Nc6,a3,Bd6,Re1,O-O,Bg5,h6,Bh4,Bg4,Be2,g5,Bg3,Bxg3,hxg3,Qd7,Ne5,Nxe5,dxe5,Bxe2,Qxe2,Nd5,Ne4,Kg7,Rad1,Qe7,c4,Nb6,Nf6,Rad8,Rxd8,Rxd8,Qe4,Rh8,Qxb7,Nxc4,g4,Qc5,Rc1,Qd4,Qb4,Qxe5,Nh5+,Kg6,Qxc4,Rd8,Qxc7', 'Rd1+,Rxd1,Qxc7', 'https://lichess.org/training/38Mf0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('38oCY', 'Rapid', 'pawdaw', 1768, 'qarabagli', 1819, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,Bd6,dxe5,Nxe5,Nxe5,Bxe5,Qf3,Nf6,O-O,d6,h3,Be6,Bd3,O-O,Nd2,d5,Re1,c6,c4,dxe4,Nxe4,Nxe4', 'Qxe4,f5,Qxe5', 'https://lichess.org/training/38oCY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('38RDS', 'Blitz', 'albahri_maraxsa', 1582, 'Engineer_11', 1607, 'e4,c5,Nf3,e6,c3,a6,d4,d5,exd5,Qxd5,Bd3,Nf6,dxc5,Bxc5,O-O,O-O,b4,Be7,Qc2,b5,Bg5,Nbd7,c4,bxc4,Bxc4,Qc6,Nd4,Qc7,Nxe6,Qe5,Nxf8,Nxf8,Bxf6,Qxf6,Nc3,Bxb4,Rad1,Qxc3,Qe4,Ra7,Rc1,Qf6,Bxf7+,Qxf7,Rxc8,Re7,Qxb4,h6,Rfc1,Kh7,Qb1+,g6,Qb6,Re6,Qd4,Nd7,Qxd7', 'Qxd7,R8c7,Re1+,Rxe1,Qxc7', 'https://lichess.org/training/38RDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('38V5w', 'Rapid', 'Matagorda', 1723, 'Desko_D', 1850, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Re1,d6,c3,Bg4,h3,Bh5,d3,Be7,Be3,Nh7,Nbd2,O-O,Qc2,Na5,Bb3,Nxb3,Qxb3,Kh8,Qxb7,Rb8,Qxa7,Rxb2,Nc4,Rc2,Qa3,Bxf3,gxf3,Ng5,Kg2,f5,Qb3,f4,Qxc2,fxe3,Nxe3,Rxf3,Rg1,Rxh3,Rh1,Rxh1,Rxh1,Qf8,Nf5,Qf6,a4,Bd8,a5,Qg6,Kf1,Nf3,Rh3,Qg1+,Ke2,Nh2,Rg3,Qf1+,Ke3,Bg5+,Rxg5,hxg5,a6,Qa1,f3', 'Qe1+,Qe2,Nf1#', 'https://lichess.org/training/38V5w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('38Yjc', 'Rapid', 'Tscholi', 1777, 'Harald1309', 1701, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,Nc3,Bf5,Be2,g6,Be3,Bg7,Qd2,O-O,Nd4,c5,Nxf5,gxf5,Bg5,Re8,O-O-O,Nbd7,h4,Qe7,h5,Qe5,h6,Bh8,f4,Qe3,Kb1,Ng4,Bxg4,fxg4,f5,Qxd2,Rxd2,Re5,Rf2,f6,Bd2,Rae8,Ne4,d5,Bf4,dxe4,Bxe5,Rxe5,dxe4,Rxe4,Rd1,Nf8,b3,g3,Rf3,Rh4,Rxg3+,Kf7,Rh3,Rf4,Rd5,b6,g3,Rf3,a4,Rf1+,Kb2,Rf3,a5,Ke7,b4,cxb4,axb6,axb6,Rb5,Nd7,Rh4,Ne5,Rxb6,Rxf5,Rb7+,Ke6,Rxh7,Ng6,Re4+,Kd5,Rxb4,Rg5,Rd7+,Ke6,Rbb7,Rxg3,h7,f5+,Kb1,Rg1+,Ka2,f4,Rd8', 'Ra1+,Kb3,Rb1+,Kc4,Rxb7', 'https://lichess.org/training/38Yjc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('39749', 'Rapid', 'Zerazaz', 1868, 'Mon_61', 1871, 'b3,d5,Bb2,e6,e3,Nf6,Qf3,Be7,Bd3,O-O,Nh3,c5,Kf1,Nc6,Qg3,d4,Qh4,g6,exd4,cxd4,Ng5,Nh5,f4,Bxg5,fxg5,Qd5,Be4,Qc5,Ba3,Nb4,c3,dxc3,dxc3,Qe3', 'Bxb4,Qc1+,Qe1', 'https://lichess.org/training/39749');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('39aok', 'Rapid', 'yayagaga', 1855, 'Elenna', 1868, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Be3,O-O,Qd2,Bg4,O-O-O,Bxf3,gxf3,Bf6,Bd3,g6,h4,Bxh4,Bh6,Re8,Qf4,Bf6,Bc4,Rf8,Bxf8', 'Bg5,Bh6,Bxf4+', 'https://lichess.org/training/39aok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('39dRF', 'Classical', 'Daniel-Kasparov', 1621, 'Ben_Lande', 1662, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Be2,Nc6,O-O,Qc7,b3,Nf6,Bb2,Nxe4,Re1,d5,a3,Nxd4,Qxd4,Qxc2,Bd3,Qxb3,Bxe4,dxe4,Nd2,Qd5,Nc4,Qxd4,Bxd4,f6,Rxe4,Kf7,Rc1,Bd7,Nb6,Rd8,Rc7,Ke8,Nxd7,Rxd7,Rxe6+,Be7,Rxd7,Kxd7,Rb6,Kc7,f3,Rd8,Re6,Bxa3,Bb6+,Kd7,Re3,Bc1', 'Rd3+,Kc6,Bxd8', 'https://lichess.org/training/39dRF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('39KoA', 'Rapid', 'Axelou2000', 1768, 'FlereImsaho', 1755, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,e6,Bb5,Bd7,Bxc6,Bxc6,d3,Qe7,O-O,O-O-O,Re1,h6,f5,Qf6,fxe6,fxe6,Rf1,g5,Nxg5', 'Qd4+,Rf2,hxg5', 'https://lichess.org/training/39KoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('39mNh', 'Blitz', 'Anatoliy26', 1958, 'pagoda', 1852, 'e4,g6,d4,Bg7,Nc3,d6,f4,Nf6,Nf3,O-O,Be2,a6,O-O,b5,a3,Bb7,h3,Nxe4,Nxe4,Bxe4,Ng5,Bb7,Bf3,Bxf3,Qxf3,Nd7,Qc6,Bxd4+,Kh1,Nf6,c3,Bb6,Bd2,Qd7,Qf3,e6,Rad1,d5,Bc1,c5,Qg3,Qc7,Qh4,Kg7,f5,exf5,g4,fxg4,Rxf6,Kxf6,Nxh7+,Kg7,Qh6+,Kg8', 'Nf6#', 'https://lichess.org/training/39mNh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('39O71', 'Rapid', 'DKay90', 1734, 'Damiano72', 1724, 'e4,c6,d4,d5,e5,Bf5,f4,e6,Bd3,Bxd3,Qxd3,c5,c3,Nc6,Nf3,Qb6,O-O,Nge7,dxc5,Qxc5+,Be3,Qa5,Nbd2,Nf5,Nb3,Qc7,Nfd4,Nxe3,Qxe3,Nxd4,cxd4,Be7,Rac1,Qd7,Nc5,Bxc5,Rxc5,O-O,Qd3,Rfc8,f5,Rxc5,dxc5,Rc8,f6,Qc6,b4,Rd8,Qg3,g6,Qh4,h5,Qg5,Kh7,Rf3,d4,Rh3,Qe4', 'Rxh5+,Kg8,Rh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/39O71');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('39OJh', 'Rapid', 'BobAggiustaTutto', 1748, 'JEvans', 1688, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,Nf3,Nf6,Bg5,d6,Qd2,a6,Rd1,Be7,O-O,b5,Bb3,b4,Bxf6,Bxf6,Ba4,Bb7,Qxd6,bxc3', 'Bxc6+,Bxc6,Qxc6+', 'https://lichess.org/training/39OJh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('39Qq2', 'Rapid', 'S_Moradi', 1760, 'lohit_97', 1684, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Re1+,Be6,Bb3,Nf6,c3,b5,d4,c4,Bc2,Bd6,b3,Qc7,h3,O-O,a4,a6,Ba3,b4,cxb4,Nxb4,bxc4,Nxc2,Bxd6,Qxd6,Qxc2,Rfc8,c5,Qf4,Qe2,Ne4,Ra3,h5,Nh2,Rab8,Rf3,Qh6,Ra3,Rb4,Rd1,Rcb8,Nd2,Nc3,Rxc3,Rxd4,Ra3,Rb2,Qxa6,Rbxd2,Rxd2,Qxd2,c6', 'Qc1+,Nf1,Qxa3', 'https://lichess.org/training/39Qq2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('39wuD', 'Blitz', 'GM AtalikS', 2659, 'HikoBabaGM', 2532, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,dxc4,a4,Bf5,Ne5,e6,f3,Nbd7,e4,Bg6,Nxc4,Nb6,Ne5,a5,Be3,Bb4,Be2,O-O,O-O,Rc8,Qd2,c5,Rfd1,cxd4,Bxd4,Qc7,Qe3,Nbd7,Nb5,Qb8,Nxd7,Nxd7,Ba7,Bc5,Qxc5,Nxc5,Bxb8,Rxb8,Bc4,Rfd8,b3,Kf8,Kf2,Ke7,Ke3,f5,e5,b6,Rd6,Be8,Rxd8,Rxd8,Nd4', 'f4+,Kxf4,Rxd4+', 'https://lichess.org/training/39wuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('39yA8', 'Rapid', 'Masud007', 1793, 'AnnatarChess', 1827, 'e4,e5,d3,Nf6,Bg5,h6,Bxf6,gxf6,Nd2,d5,exd5,Qxd5,Qf3,Qe6,h3,Nc6,a3,Nd4,Qd1,Qc6,Ngf3,Nxc2+,Ke2,Nxa1,Qxa1,Bc5,Ne4,Bf5,Nfd2,Bd4,g4,Bg6,Bg2,Qc2,Rc1,Qxb2,Qxb2,Bxb2,Rxc7,O-O,Rxb7,Rab8,Rxa7,Kg7,Nc5,Rfc8,Nd7,Rb5,Ra6,f5,Nc4,Rd8,Ndxe5,Bxe5,a4,Rb3,Nxe5,f6', 'Ra7+,Kg8,Nxg6', 'https://lichess.org/training/39yA8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3a2n7', 'Blitz', 'WIM qween1', 2273, 'HellaWahnsinn', 2309, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bc4,Nc6,Nf3,Bg4,Bd2,Qh5,d5,Nd4,Be2,Nxe2,Qxe2,O-O-O,O-O-O,Nxd5,Nxd5,Rxd5,Kb1,e6,Be3,Bxf3,gxf3,Bc5,Bf4,Rhd8,Rxd5,Qxd5,Rg1,g6,a3,a6,Bg5,Rd7,Bc1,Qf5', 'Rg5,Qh3,Rxc5', 'https://lichess.org/training/3a2n7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3a2yL', 'Rapid', 'Yric', 1898, 'ZDRAVKOZG', 1924, 'e4,c6,d4,d6,Nc3,g6,Nf3,Bg7,Bc4,Nf6,Ng5,O-O,h4,e6,h5,h6,hxg6,hxg5,Bxg5,fxg6,e5,d5,Bd3,Qb6,exf6,Bxf6,Bxf6,Rxf6,Na4,Qxd4,Qd2,Qxa4,Qh6,Qf4', 'Qh8+,Kf7,Rh7#', 'https://lichess.org/training/3a2yL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3A4bd', 'Classical', 'nasa37', 1850, 'sahyalakasi', 1814, 'e4,d6,Nf3,Nf6,Nc3,Nbd7,d4,g6,Bc4,Bg7,Ng5,O-O,O-O,c5,Re1,cxd4,Qxd4,Ng4,Qd5,Nde5,Bb3,e6,Qd1,h6,Nf3,Nxf3+,Qxf3,Qh4,h3,Bxc3,bxc3,Ne5,Qf4,Qe7,Qxh6,Qf6,Ba3,Rd8,Rad1,d5,exd5,exd5,Rxd5,Re8,Rexe5,Rxe5,Qf8+,Kh7,Rd8', 'Re1+,Kh2,Qf4+,g3,Qxf2#', 'https://lichess.org/training/3A4bd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3a5Bz', 'Blitz', 'mma0105', 2227, 'Carl_Canio', 2282, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Qc7,O-O,Nc6,Nxc6,dxc6,f4,e5,f5,Bc5+,Kh1,b5,Qe2,Bb7,Be3,Qb6,Bxc5,Qxc5,Nd2,O-O-O,Nb3,Qb6,c4,Nf6,c5,Qc7,a4,Rd7,Bc2,Rhd8,Rad1,Rxd1,Rxd1,Qe7,a5,Nd7,Qe3,g6,g4,gxf5,gxf5,Rg8,Rg1,Qf8,Rxg8,Qxg8,Qg3,Qxg3,hxg3,Nf6,Kg2,Kc7,Nd2,Bc8,b4,Nh5,Kf3,f6,Nf1,Bd7,Ne3,Be8,Ng4,Kd7,Bd1,Ke7,Kg2,Ng7,Ne3,Bf7,Kh3,Ba2,Kh4,Kf7,Bf3,Bb1,Nd1,Bc2,Nf2,Ke7,Ng4,Ne8,Nf2,Ng7,Bh5,Kf8,Kg4,Nxh5,Kxh5,Kg7,Kg4,Bb1,Kf3,Kh6,Ke3,Kg5,Kd2,Ba2,Ke3,Bc4,Kf3,Bf1,Nd1,h5,Ne3,Bd3,Ng2,Bc2,Nh4,Bd1+,Kf2,Kg4,Ng6,Bf3', 'Nxe5+,fxe5,f6,Bd1,f7', 'https://lichess.org/training/3a5Bz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3A7Ir', 'Rapid', 'st0rm5', 2038, 'hanscastorp', 1970, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,cxd4,cxd4,Nc6,Nc3,Nh6,Bd3,Bd7,O-O,Nxd4,Nxd4,Qxd4,Bxh6,gxh6,Qe2,Bg7,Rfe1,O-O,Rad1,Qc5,Qf3,f6,Qg3,fxe5,Rxe5,Kh8,Rh5,e5,Bb1,Bc6,Rxe5,Qxf2+,Qxf2,Rxf2,Kxf2,Bxe5,Nxd5,Bxh2,Ne7,Rf8+,Ke3,Bxg2,Rd7,h5,Nd5,h4', 'Rxh7+,Kg8,Ne7#', 'https://lichess.org/training/3A7Ir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3AchW', 'Blitz', 'tbonnin', 1603, 'PalanzkI', 1568, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,a6,c4,e5,Nb3,Nc6,Be3,Be7,Be2,O-O,O-O,Be6,Nc3,Rc8,Nd5,Bxd5,exd5,Na5,Nd2,b6,b4,Nb7,Kh1,Nh5,Qe1,Nf4,Bxf4,exf4,Ne4,Bf6,Rc1,Bd4,Qd1,Be3,Rc2,f5,Nf2,Qh4,Qe1,Rf6,Nd1', 'Qxh2+,Kxh2,Rh6+,Qh4,Rxh4#', 'https://lichess.org/training/3AchW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3aEcs', 'Rapid', 'stimpi', 1606, 'Madafaca099', 1701, 'd3,e5,Nf3,Nc6,Bg5,Nf6,Nc3,h6,Bh4,Bc5,Ne4,Be7,Bg3,Nxe4,dxe4,d6,Qd2,Bg4,h3,Bh5,Qd5,O-O,a3,Bxf3,exf3,Nd4,Bd3,c6,Qa2,Qa5+,c3,Nb5,b4,Qa4,c4,Nd4,O-O,c5,Rab1,Qd7,b5,b6,a4,Qd8,Qd2,Bh4,Bh2,Qf6,f4,Ne6,g3,Nxf4,gxh4,Qg6+,Bg3,Nxh3+,Kh2,Qg4,Qe3,Rfe8,f3,Qd7,Rb2,Re6,Rg2,Rf6,Rd1,Nf4,Bf1', 'Qh3+,Kg1,Nxg2,Bxg2,Qxg3', 'https://lichess.org/training/3aEcs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Agpz', 'Blitz', 'bata1965', 1814, 'Carrinthe', 1834, 'Nf3,Nf6,c4,e6,d4,d5,Nc3,Be7,e3,O-O,Bd3,dxc4,Bxc4,c5,O-O,Nc6,Re1,a6,a3,b5,Ba2,cxd4,exd4,Bb7,b4,Rc8,Bb2,Qb6,Rc1,a5,bxa5,Nxa5,Rb1,Rfd8,Qe2,Bxf3,Qxf3,Rxd4,Ne4,Rxe4,Rxe4,Nxe4,Qxe4,Nc4,Bxc4,Rxc4,Qe5,Bf6,Qe2,Bxb2,Qxb2,Qc5,h3,Rc2,Qxb5', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/3Agpz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3AkTG', 'Blitz', 'ms1966', 1946, 'xay0', 1730, 'e4,c6,d4,d5,exd5,cxd5,f4,Nf6,Nf3,Bf5,Bd3,Bxd3,Qxd3,e6,Ne5,Nc6,O-O,Qb6,c3,Be7,b3,Rc8,Ba3,Bxa3,Nxa3,O-O,Rac1,Nh5,Nd7,Qa5,Nxf8,Qxa3,Nd7,Nxf4,Qf3,g5,g3,Ng6,Qxf7+,Kh8,Qxe6,Qxa2,Nf6,Rf8,Nxd5,Rxf1+,Rxf1,Qxb3,Qe8+,Kg7,Qf7+,Kh6,Nf6', 'Qxf7,Ng4+,Kg7,Rxf7+,Kxf7', 'https://lichess.org/training/3AkTG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3An0t', 'Rapid', 'RussianSuckers', 1860, 'AghaBagha', 1829, 'e4,e6,d4,d5,Nc3,c5,Nf3,Nc6,Be3,Qb6,dxc5,Bxc5,Bxc5,Qxc5,Bd3,Nf6,O-O,O-O,exd5,exd5,Re1,Bg4,h3,Bh5,Be2,Rad8,Nd2,Bg6,Nb3,Qb6,Bf3,Nb4,Re2,Rd6,Rc1,Rfd8,Nd4,h6,Ndb5,Re6,Nd4,Rxe2,Qxe2,Qxd4,Rd1,Qc4', 'Qxc4,dxc4,Rxd8+', 'https://lichess.org/training/3An0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3anB4', 'Rapid', 'Coccia1', 1716, 'ariel_the_lion', 1741, 'd4,e6,Nf3,d6,g3,c5,Bg2,c4,O-O,d5,c3,Nc6,Nfd2,h5,e4,h4,exd5,exd5,Re1+,Be7,Nf3,hxg3,fxg3,Bg4,Qa4,Bxf3,Bxf3,Nf6,Bg5,O-O,Bxf6,Bxf6,Nd2,a6,Nf1,b5,Qa3,Qb6,Bxd5,Bxd4+,cxd4,Qxd4+,Ne3,b4,Qa4,Rae8,Rad1,Qxb2,Qxc6,c3,Bxf7+,Kxf7,Qd5+,Kg6,Qd3+,Kf7,Qd5+,Kg6,Qd6+,Kh7,Qd3+,Kh8,Nf5,Rxe1+,Rxe1,c2,Qe4', 'c1=Q,Rxc1,Qxc1+', 'https://lichess.org/training/3anB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3aNbc', 'Classical', 'brazperrone', 1948, 'Thomas_Paoli', 2063, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e5,Nf3,Be7,O-O,O-O,Bg5,Nbd7,Qd3,b5,Bb3,Bb7,Rad1,b4,Bxf6,Nxf6,Nd5,Nxd5,Bxd5,Bxd5,Qxd5,Rc8,Rc1,Rc5,Qb3,a5,Rfd1,Qc7,Rd5,Rc6,Qa4,Rc5,Rxc5,dxc5,Rd1,Rd8,Rxd8+,Qxd8,g3,f6,Qb3+,Kf8,Qd5,Qxd5,exd5,e4,Nd2,f5,Nc4,a4,b3,a3,Ne3,g6,Kf1,Ke8,Ke2,Kd7,Nc4,Bf6,h4,h5,Ke3,g5,hxg5,Bxg5+,Ke2,Bf6,Ke3,Bd4+,Ke2,f4,gxf4,h4,Kf1,Ke7,Kg2,Kf6,Kf1,Kf5,Kg2,Kxf4,d6,Bf6,d7,Kf5,Nd6+,Ke6', 'Nxe4,Bd8,Nxc5+', 'https://lichess.org/training/3aNbc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ANC3', 'Blitz', 'Kungfuboy', 2032, 'TheHeinBloed', 2079, 'd4,Nf6,Bf4,d5,Nd2,c5,e3,Nc6,c3,e6,Ngf3,cxd4,exd4,Nh5,Bg5,f6,Be3,Bd6,g3,g6,Bd3,Qe7,Qa4,Bd7,Qc2,O-O-O,O-O-O,Kb8,Kb1,Rc8,Bb5,Nb4,Qa4,Bxb5,Qxb5,Nc6,c4,a6,Qa4,e5,cxd5,Nb4,dxe5,fxe5,Qb3,Rhf8,a3,e4,Nd4,Nd3,Nc6+,Rxc6,dxc6,Rf5,Qb6,Rb5,Qa7+,Kc7,Nc4,Bxa3,Bb6+,Kxc6,Nxa3', 'Rxb2+,Ka1,Qxa3#', 'https://lichess.org/training/3ANC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3AQ05', 'Rapid', 'Euroshima', 2095, 'NM kathiyitis', 2295, 'e4,c5,b4,cxb4,d4,e6,a3,d5,e5,Nc6,axb4,Bxb4+,c3,Be7,Bd3,Bd7,Qg4,Bf8,Nh3,Nge7,O-O,Na5,Bg5,Qc7,Bxe7,Kxe7,Qg5+,Ke8,f4,g6,Qf6,Rg8,Ng5,Rg7,Na3,Nc4,Nxc4,dxc4,Be4,Bc6,Rfd1,h6,Nxe6,fxe6,Qxe6+,Qe7', 'Bxc6+,bxc6,Qxc6+', 'https://lichess.org/training/3AQ05');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ArLv', 'Rapid', 'ANDMAN', 1817, 'lorlores', 1677, 'e4,d5,e5,e6,d4,f6,f4,Nc6,Nf3,Nge7,g4,Bd7,Be3,g6,Nc3,h6,h4,Bg7,Bd3,Ng8,Bxg6+,Ke7,f5,exf5,Nxd5+,Kf8,gxf5,Nge7,Qd3,Nxg6,fxg6,fxe5,dxe5,Qc8,Nd4,Nxe5,Rf1+,Ke8,Qc3,Kd8,Rf7,Nxf7,gxf7,Rf8,Ne6+,Bxe6,Qxg7,Rxf7,Qh8+,Kd7,Nf6+,Ke7', 'Bc5#', 'https://lichess.org/training/3ArLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Asrg', 'Blitz', 'zeromh', 1897, 'Anashya', 1737, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,c6,d4,Nf6,h3,Be6,Ne2,Nbd7,O-O,Bd6,Bf4,Qc7,Bxd6,Qxd6,Ng3,O-O-O,c3,h5,Qf3,g6,Na3,h4,Ne2,Ne4,Rad1,g5,Bc2,Ndf6,Bxe4,Nxe4,Nc2,g4,hxg4,Rdg8,Qf4,Qxf4,Nxf4,Bxg4,f3,h3,fxg4', 'h2+,Kh1,Ng3#', 'https://lichess.org/training/3Asrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3AuMA', 'Rapid', 'PrinceDetritus', 2182, 'Nikos_Seretakis', 2105, 'Nf3,Nf6,c4,e6,d4,Bb4+,Bd2,c5,Bxb4,cxb4,g3,a5,Bg2,b6,Ne5,Ra7,Nd2,Bb7,e4,d6,Nd3,O-O,O-O,e5,dxe5,dxe5,Nxe5,Qd4,Nef3,Qxb2,e5,Ne4,Re1,Nxd2,Qxd2,Qxd2,Nxd2,Na6,Bd5,Rd8,e6,Bxd5,cxd5,Rxd5', 'e7,Rxe7,Rxe7', 'https://lichess.org/training/3AuMA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3AVEi', 'Rapid', 'Cavilador', 2028, 'show_me_patzer', 2006, 'd4,e6,e4,c5,d5,Nf6,Bg5,Qa5+,Bd2,Qb6,Nc3,exd5,exd5,g6,Bd3,Bg7,Qe2+,Kd8,Nf3,Re8,Be3', 'Qxb2,O-O,Qxc3', 'https://lichess.org/training/3AVEi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3avg8', 'Rapid', 'Molloy1951', 2128, 'fluxion', 1835, 'Nc3,b6,e4,Bb7,d4,e6,Nf3,Bb4,Bd3,Nf6,Qe2,Nc6,Bd2,Ne7,O-O,Ng6,Rfe1,Bxc3,bxc3,Qe7,c4,h5,Rab1,h4,h3,Nh5,Bg5,f6,Bxh4,Nhf4,Qe3,Nxd3,cxd3,Nxh4,Nxh4,Rxh4,Qg3,Rh7', 'Qg6+,Qf7,Qxh7', 'https://lichess.org/training/3avg8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3awKx', 'Blitz', 'barensis', 1759, 'VedanthS', 1770, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nf6,Bg5,O-O,Nf3,Nc6,Bd3,d6,O-O,Qc7,h3,Re8,Kh1,d5,Rb1,dxe4,Nxe4,Nxe4,Bxe4,Be6,Nh2,Bxa2,Ra1,Be6,c3,Be5,Qf3,Bxh2,g3,Bxg3,fxg3,Bxh3,Qxf7+,Kh8,Bh6,Rg8,Bxg6,hxg6,Rf4,Ne5', 'Bg7+,Rxg7,Rh4+,Rh7,Qxh7#', 'https://lichess.org/training/3awKx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3AxpK', 'Rapid', 'fluffyfly', 2011, 'Akuver', 1927, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,O-O,d6,c3,Bb7,d4,exd4,cxd4,Bb6,Ng5,Nh6,Qh5,O-O,d5,Ne5,Be3,a5,Bxb6,cxb6,f4,Neg4,Nc3,a4,Bc2,a3,bxa3,Rxa3,Nxb5,Re3,h3,Nf6,Qd1,Re8,Qd2,Nxe4,Bxe4,R8xe4,Nxe4,Rxe4,Rac1,Qd7,Rc7,Qxb5,Rxb7,g6,f5,Qc5+,Kh2,Nxf5,Rxf5,gxf5,Qg5+,Kf8,Rb8+,Re8,Qh6+,Ke7,Qg5+,Kf8,Rxe8+,Kxe8,Qg8+,Ke7,Qg5+,Ke8,Qg8+,Ke7,Qg5+,Kd7,Qxf5+,Ke7,Qg5+,Ke8,Qg8+,Ke7,Qg5+,Ke8,Qg8+,Ke7,Qxh7,Qxd5,Qh4+,f6,Qh7+,Qf7,Qxf7+,Kxf7,Kg3,Ke6,Kf2,Ke5,Ke3,d5,g4,d4+,Kd3,b5', 'h4,Kf4,h5', 'https://lichess.org/training/3AxpK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3AyGV', 'Rapid', 'fhigor', 1612, 'boracpodlug', 1695, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,Be7,Bc4,a6,d3,O-O,O-O,b5,Bb3,c5,a3,Nc6,Be3,Bd7,Qd2,Qc8,Rfe1,Nh5,Nd5,Bxh3,gxh3,Qxh3,Ng5,Qg4+,Kf1,Bxg5,Bxg5,Qf3,Qe3', 'Ng3+,Kg1,Qh1#', 'https://lichess.org/training/3AyGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3B6lp', 'Rapid', 'Sebas65', 1752, 'Fake2', 1781, 'd4,d5,Bf4,e6,Nf3,Nf6,e3,c6,h3,Bd6,Ne5,O-O,Nd2,Nbd7,Ndf3,Ne4,Bh2,Ndf6,Bd3,Qb6,Qc1,Be7,c3,c5,Qc2,cxd4,exd4,h6,O-O,Nd6,Nd2,Bd7,f4,Rac8,Nxd7,Nxd7,Nf3,Nc4,Rab1,Ne3,Qd2,Nxf1,Kxf1,Nf6,Bc2,Bd6,Kg1,Qc7,Ne5,b5,Rc1,Qa5,a3,Qb6,Qd3,a5', 'Nd7,Rfd8,Nxb6', 'https://lichess.org/training/3B6lp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3B9Ke', 'Rapid', 'galuga', 1712, 'IhlanRromeo14', 1764, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,d5,exd5,exd5,Bb5,a6,Ba4,Nf6,d4,b5,Bc2,c4,O-O,Be7,h3,O-O,Nbd2,h6,Nh2,b4,Bb1,Be6,Ndf3,a5,Ne5,Nxe5,dxe5,Nd7,Qc2,g6,Ng4,Bf5', 'Nxh6+,Kh7,Nxf5', 'https://lichess.org/training/3B9Ke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3BD4r', 'Rapid', 'Silk_Silk_Milk', 2356, 'Evren1', 2052, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bg5,Bg7,Bc4,O-O,O-O,Nc6,Nxc6,bxc6,Qd2,Be6,Bxe6,fxe6,Bxf6,Bxf6,Na4,d5,Rad1,dxe4,Qe2,Qa5,Qxe4,Qe5,Qc4,Rfd8,Qxc6,Rac8,Qa6,Rxd1', 'Qxc8+,Kf7,Rxd1', 'https://lichess.org/training/3BD4r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3bEd6', 'Rapid', 'KpaBlanC', 1720, 'Judoman', 1736, 'e4,e5,Bc4,Nf6,d3,Nc6,Nc3,Bc5,Nf3,O-O,Bg5,h6,Bh4,d6,O-O,Qe7,Nd5,Qd8,Bxf6,gxf6,Nh4,Ne7,Qh5,Kh7,Nxf6+,Kg7,Ng4,Bxg4,Qxg4+,Ng6,Bxf7,Rxf7,Qxg6+,Kf8,Qxh6+,Rg7,Ng6+,Kf7,Nh4,Qg5,Qxg5,Rxg5,g3,Rh8,Nf3,Rgh5,h4,Rg8,a3', 'Rxg3+,Kh2,Rxf3', 'https://lichess.org/training/3bEd6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3BK7N', 'Rapid', 'Nikov7', 1530, 'iiDarkx', 1554, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,e5,dxe5,Qxe5+,Be2,Bg4,h3,Bxe2,Ngxe2,Nd7,Bf4,Qc5,O-O,O-O-O,Ng3,Nb6,Be3,Rxd1,Bxc5,Rxf1+,Kxf1,Bxc5,Nf5,g6,Re1,gxf5,Re8+,Kd7,Re5,Bb4,Rxf5,Bxc3,bxc3,Ke6,Ra5,a6,f4,Ne7,Rc5,c6,g4,f5,Re5+,Kf6,g5+,Kg6,Rxe7,Rd8,Rxb7,Nc4,Rc7,Rd6,Kf2,Nd2,h4,Ne4+,Kg2,Nxc3,Kh3,Nxa2', 'h5+,Kxh5,Rxh7+,Kg6,Rh6+,Kg7,Rxd6', 'https://lichess.org/training/3BK7N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3BKEl', 'Blitz', 'abdallah188', 2013, 'Ahmdmhmwdhmydt99', 1582, 'e4,c5,Nf3,Nc6,Bb5,h6,b3,a6,Bxc6,bxc6,Bb2,d6,d3,e5,Nbd2,Nf6,O-O,Be6,Ne1,Qd7,f4,Bg4,Qc1,h5,fxe5,dxe5,Bxe5,Bd6,Nc4', 'Bxe5,Nxe5,Qd4+,Kh1,Qxe5', 'https://lichess.org/training/3BKEl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Bl1m', 'Classical', 'Surypratap', 1919, 'kotte33', 1897, 'd4,d5,c4,e6,e3,Nc6,Nf3,Bd7,a3,a5,b3,Nf6,Bb2,h6,Qc2,Ne4,Bd3,f5,cxd5,exd5,Bb5,Be7,Ne5', 'Nxe5,Bxd7+,Nxd7', 'https://lichess.org/training/3Bl1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3BLPo', 'Rapid', 'kindruk', 1876, 'idler76', 1777, 'e4,c5,Nc3,e6,Nf3,a6,d4,cxd4,Nxd4,Qc7,g3,b5,Bf4,d6,Nf3,Bb7,e5,Bxf3,Qxf3,d5,Bd3,Bb4,O-O,Ne7,Ne2,Nd7,c3,Bc5,Nd4,Nxe5,Bxe5,Qxe5,Rfe1,Qd6,Qg4,O-O,Qh5,Ng6,f4,Qb6,Kg2,Bxd4,cxd4,Qxd4,Bxg6,Qxb2+,Kg1,fxg6,Qe5,Qxe5,Rxe5,Rfe8,Rae1,Kf7,Rc1,Ra7,Kg2,Kf6,g4,g5,Rxg5,h6,Re5,g5,Rf1,gxf4,Rh5,e5,Rxh6+,Kg5,Rd6,d4,Kf3,e4+,Ke2,d3+,Kf2,Kxg4,Rg1+,Kf5,Rdg6,e3+,Kf3,Rf8', 'R1g5#', 'https://lichess.org/training/3BLPo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3blQX', 'Rapid', 'NNEricsaxe', 1917, 'alcazarruiz1', 1992, 'e4,g6,d4,Bg7,f4,d5,e5,f6,Nf3,fxe5,fxe5,Bg4,Be2,e6,O-O,Ne7,Ng5,Bf5,g4,h6,gxf5,hxg5,f6,Bxf6,exf6,Nf5,Bxg5,Kf7,Bg4,Qd6,Bf4,Qf8,Bxf5,gxf5,Bxc7,Qh6,Kh1,Nd7,Rg1,Nxf6,Be5,Ng4,Rxg4,fxg4,Bxh8,Rxh8,Qf1+,Ke7,Qg1,Qf4,Nd2,Qxd2,Qg3,Kd7,Rf1,Rh7,Rf2,Qe1+,Kg2,Qe4+,Kg1,Qxd4,Qd3,Qxd3,cxd3,Ke7,Kg2,e5,Kg3,Rg7,Rf5,Ke6,Rh5,a6,Rh4,Kf5,Rh5+,Kf6,Rh4,e4,dxe4,dxe4,Rxg4,Rxg4+,Kxg4,Ke5,h4,e3', 'Kf3,Kd4,Ke2', 'https://lichess.org/training/3blQX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3bnAs', 'Blitz', 'Benoitsky', 1999, 'buzuko', 2109, 'd4,c5,d5,e6,c4,exd5,cxd5,Nf6,Nc3,d6,e4,g6,Be2,a6,a4,Bg7,Nf3,Bg4,O-O,O-O,h3,Bxf3,Bxf3,Re8,Re1,Qc7,Bf4,Nbd7,Qc2,b6,Rad1,Rab8,Qd3,c4,Qc2,b5,axb5,axb5,e5,Nxe5,Bxe5,Rxe5,Rxe5,dxe5,d6,Qc5,Ne4,Nxe4,Bxe4,Rd8,d7,Qc7,Qd2,f5,Bd5+,Kf8', 'Qb4+,Qd6,Qxd6#', 'https://lichess.org/training/3bnAs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3bNC9', 'Rapid', 'bacholt', 1844, 'Sj660', 1702, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nb8,Nc3,Bg4,Be2,Bxf3,Bxf3,Nf6,Qd3,Be7,Qb5+,c6,Qxb7,Nbd7,dxc6,Nc5,Qb4,O-O,Bg5,Qc7,Qc4,Qxc6,O-O,Qb7,Nd5', 'Nxd5,exd5,Bxg5', 'https://lichess.org/training/3bNC9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3BPV1', 'Rapid', 'moral26', 1605, 'MM993311', 1633, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,Bg5,h6,Bh4,Be7,Re1,d6,c3,Be6,Bb3,Na5,Bc2,c5,a4,Nc6,d4,cxd4,cxd4,exd4,h3,d5,exd5,Bxd5,Nxd4,Nxd4,Qxd4,Re8,Nd2,b6', 'Bxf6,Bxf6,Rxe8+,Qxe8,Qxd5', 'https://lichess.org/training/3BPV1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3brUK', 'Rapid', 'SawanTheKnight', 1803, 'dboenn', 1797, 'e4,e6,d4,d5,exd5,c6,dxe6,Bxe6,Nf3,Nf6,Ng5,Bd5,c4,Be4,Nxe4,Nxe4,Qf3,Qxd4,Be3', 'Bb4+,Nc3,Bxc3+,bxc3,Qxc3+', 'https://lichess.org/training/3brUK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3BsxX', 'Bullet', 'armine', 2197, 'elob', 2194, 'e4,e6,Nf3,d5,Nc3,Nf6,e5,Nfd7,d4,c5,Bb5,Nc6,Bxc6,bxc6,O-O,cxd4,Qxd4,c5,Qg4,g6,Bg5,Qb6,Bf6,Nxf6,exf6,Qxb2,Nxd5,exd5,Rae1+,Kd8,Qa4,Bd7,Qf4,Qb6,Ne5,Be6,c4,d4,Rb1,Qc7,Qe4,Rc8,f4,Bd6,Rb7,Bxe5,Rxc7,Bxc7,f5,gxf5,Rxf5,Rb8,Rxc5,d3,Qxd3+,Kc8,Qe4,Rd8,g3,Kd7', 'Qc6+,Kc8,Qxc7#', 'https://lichess.org/training/3BsxX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3BTDo', 'Rapid', 'bakeds', 2185, 'juleso', 2111, 'e4,e6,d4,d5,Nc3,Bb4,e5,Ne7,a3,Bxc3+,bxc3,c5,Qg4,Qc7,Qxg7,Rg8,Qxh7,cxd4,Bd3', 'Qxc3+,Ke2,Qxa1', 'https://lichess.org/training/3BTDo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3btti', 'Rapid', 'Salgirr', 1707, 'spinola01', 1795, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,d6,Be2,Nbd7,Nbd2,Nh5,Bg3,Nxg3,hxg3,Nb6,c3,Bg4,Qb3,e5,Ng5,Be6,Nxe6,fxe6,Qxe6+,Qe7,Bg4,exd4,Qxe7+,Kxe7,exd4,Rae8,O-O-O,Kd8,Rde1,h5,Be6,Re7,Bb3,a5,Rxe7,Kxe7,Re1+,Kd8,a4,Bh6,Kc2,Rf8,f3,d5,Re6,Rg8,Re5,c6,Re6,Kd7,Re5,Bg7,Re2,Rf8,Kd3,Nc8,c4,Nb6,Bc2,Kd6,b3,Nd7,Kc3,Rf6,f4,c5,Nf3,dxc4,Kxc4,Nb6+,Kb5,Kd5,Be4+,Kd6,dxc5+,Kc7,cxb6+,Rxb6+,Kxa5', 'Bc3+,b4,Bxb4#', 'https://lichess.org/training/3btti');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3buGQ', 'Rapid', 'rogeliogalactico', 1922, 'ALSHOHADA', 1843, 'e4,Nf6,Nc3,d6,d4,g6,Bd3,Bg7,f3,Nbd7,Be3,O-O,Nge2,e5,d5,Ne8,Qd2,f5,Bh6', 'Qh4+,g3,Qxh6,Qxh6,Bxh6', 'https://lichess.org/training/3buGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3BzhC', 'Rapid', 'bono_m', 1947, 'samvel53', 1990, 'f4,d5,Nf3,Nc6,e3,Bf5,Be2,e6,O-O,Bc5,a3,Nf6,b4,Bb6,Bb2,a6,Nc3,d4,exd4,Nxd4,Nxd4,Bxd4+,Kh1,Bxc3,Bxc3,O-O,Bf3,c6,Rc1,Be4,Qe1,Bxf3,Rxf3,Nh5,Qe3,Qd6,Be5,Qe7,Rh3,Nf6,Qg3,Rfd8,Qh4,h6,Qg3,Kh7,d4,Rg8,Qd3+,g6,Rg1,Rad8,Qg3,Ne4', 'Rxh6+,Kxh6,Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/3BzhC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3C06b', 'Rapid', 'Wassermann42', 1911, 'bluehood', 1908, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,Nf6,O-O,Be7,a3,O-O,d3,Nc6,Rb1,a6,Be3,b5,Ba2,Bb7,Re1,e5,Nd5,Rb8,Qd2,Nxd5,Bxd5,Nd4,Bxb7,Nxf3+,gxf3,Rxb7,Kh1,h6,Bxh6', 'gxh6,Qxh6,Bg5,Rg1,f6', 'https://lichess.org/training/3C06b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3C1IB', 'Classical', 'Xander12', 1725, 'ITOSANTOSH', 1649, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,a6,Nc3,e6,Bd2,Qc7,O-O-O,h6,Nge2,Be7,Nd4,Bc5,Nce2,e5,Qg3,g6,Bc3,Bxd4,Nxd4,Nxd4,Bxd4,Qa5,Bc4,exd4,Rxd4,Nf6,Rd5,Nxd5', 'Qe5+,Kd8,Qxh8+', 'https://lichess.org/training/3C1IB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3c1Lj', 'Bullet', 'FM Charilaos2', 2100, 'grondilu', 1837, 'c4,b5,cxb5,Bb7,f3,d5,Nc3,d4,Ne4,f5,Nf2,e5,e4,f4,Bc4,Nf6,Nd3,Nbd7,Ne2,c5,bxc6,Bxc6,O-O,Bd6,b4,Qb6,Qb3,Rb8,Rb1,Rf8,Kh1,Ke7,a4,a5,b5,Ba8,Ba3,Nc5,Bxc5,Bxc5,Nxe5,Bb4,Nxf4,Bxd2,Nfd3,Be3,Bd5,Nh5,Bxa8', 'Ng3+,hxg3,Qh6#', 'https://lichess.org/training/3c1Lj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3c2AF', 'Classical', 'llaga', 1777, 'AglaAgla', 1810, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,Bb5,Ne7,d4,cxd4,cxd4,Qb6,Nc3,Bd7,O-O,a6,Qa4,Nf5,Rd1,Be7,Bxc6,Bxc6,Qc2,O-O,g4,Nh6,Bxh6,gxh6,Qd2,Qd8,Qxh6,Kh8,Kh1,Rg8,Rg1,Bg5,Qh5,f6,h4', 'Be8,hxg5,Bxh5', 'https://lichess.org/training/3c2AF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3C2v2', 'Rapid', 'yura_kudr', 2022, 'Saishravan190', 2091, 'e4,e6,h3,d5,exd5,exd5,d4,Bd6,Nf3,Nf6,Bd3,O-O,O-O,Be6,Nc3,Nbd7,Bg5,c6,Re1,Qc7,Bxf6,Nxf6,Ne5,c5,Nb5,Qb8,Nxd6,Qxd6,dxc5,Qxc5,Re3,d4,Re1,Rfe8,Nf3,Bd5,Rxe8+,Rxe8,Nxd4,Be4,Nb3,Qg5,f3,Bc6,Qd2,Qg3,Qf2,Qg5,Nd4,Bd5,c4,Be6,Nxe6,Rxe6,Qxa7,Qe3+,Qxe3,Rxe3,Rd1,Re5,Be4,g6,Bxb7,Re2,Rb1,Rc2,Bd5,Nh5,b4,Nf4,b5,Rxg2+,Kf1,Rh2,b6', 'Rh1+,Kf2,Rxb1', 'https://lichess.org/training/3C2v2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3c4G5', 'Rapid', 'scracket', 1935, 'Aleks120560', 1872, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Bg4,O-O,Bxf3,Qxf3,e6,Bg5,Be7,c3,Nbd7,Nd2,Qb6,Rab1,O-O,Qg3,Nh5,Qh4,Bxg5,Qxh5,Bh6,Nf3,f5,Rfe1,Nf6,Qh3,Ne4,Ne5,Bf4,Nd7,Qd6,Bxe4,Qxd7,Bd3,Rae8,g3,Bg5,f4,Bf6,Re2,g6,Rbe1,a6,g4,Qf7,g5,Bd8,c4,Bb6,c5,Ba5,Rc1,Bc7,Qf3,Re7,b4,Rfe8,b5,axb5,Bxb5,Rc8,a4,Ba5,Kg2,Qg7,Qe3,Kf7,Qe5,Qxe5,Rxe5,Bd2,Rf1,Bc3,Rd1,Rcc7,h4,Bb4,Kf3,Ba5,Rh1,Bc3,Ke3,Kg7,Kd3,Ba5,Rh2,Bb4,Rhe2,Kf7,Kc2,Ba5,Kb3,b6,cxb6,Bxb6,Rd2,Ba5,Rd3,Rc1,Ree3,Rh1,Rh3,Rf1,h5,Rxf4,hxg6+,Kxg6,Rd1,Kxg5,Rg1+,Rg4,Rgh1,f4,Rh5+,Kg6,Rh6+,Kf5', 'Bd3+,Kg5,R1h5#', 'https://lichess.org/training/3c4G5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3c5cV', 'Rapid', 'vitorgbs1315', 1939, 'campeaoVPS16', 2203, 'c4,e6,Nf3,Nf6,Nc3,d5,cxd5,exd5,d4,h6,Bf4,Bf5,e3,Bd6,Bg3,O-O,Bd3,Bg4,O-O,c6,Bxd6,Qxd6,h3,Bh5,Re1,Re8,e4,dxe4,Nxe4,Nxe4,Rxe4,Nd7,Rxe8+,Rxe8,Rc1,Nf6,Rc5,Bxf3,gxf3,Nd5,Be4,Nf4,Qe1,Kf8,Qb4,Nxh3+,Kf1,Kg8,Re5,Qxb4', 'Rxe8+,Qf8,Bh7+,Kxh7,Rxf8', 'https://lichess.org/training/3c5cV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3c6ib', 'Blitz', 'FM telarubo96', 2417, 'Lazzy_kitten', 2422, 'd4,d5,Bg5,h6,Bh4,c6,Nd2,Qb6,Nb3,e5,dxe5', 'Qb4+,c3,Qxh4', 'https://lichess.org/training/3c6ib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3c8oC', 'Rapid', 'aerdna69', 1611, 'DimonFry', 1603, 'e4,d5,exd5,e6,dxe6,Bxe6,Nf3,Nf6,d4,Nc6,Bg5,Be7,Bb5,Qd5,Nc3,Qd6,Bxf6,Bxf6,O-O,O-O-O,Ne4,Qb4,Bxc6,Bxd4,Nxd4,Rxd4,Bxb7+,Kxb7,Qe1', 'Rxe4,Qxb4+,Rxb4', 'https://lichess.org/training/3c8oC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3cB4w', 'Blitz', 'MrEnroke', 2383, 'GM AndreyKvon', 2502, 'd4,Nf6,e3,g6,f4,Bg7,Nf3,O-O,c3,d6,Bc4,Nc6,O-O,a6,a4,e5,dxe5,dxe5,Qxd8,Rxd8,Nxe5,Be6,Bxe6,fxe6,Nxc6,bxc6,Nd2,Rab8,e4,Bf8,h3,Rd3,e5,Bc5+,Kh2,Nd5,Ne4,Be3,c4,Bxc1,Raxc1,Ne3,Rf2,Nd1,Re2,Re3,Rxe3,Nxe3,Nc5,Rxb2,Nxe6,Rxg2+,Kh1,Rf2,Re1,Nf5,Ng5,Rxf4,Rd1,Rd4,Rb1,Rd2,Rb8+,Kg7,Rb7,Kh6,Ne4,Re2,Nf6,Kg5,Rb3,Kf4,Nxh7,Rxe5,Nf8,Nh4,Kg1,Re2,Kf1,Ra2,c5,g5,Rb4+,Kg3,Rg4+,Kxh3,Rxg5,Nf3,Rg8,Rxa4,Rg7,Ne5,Rxc7,Kg3,Nd7,Nf3,Nb8,Ra2,Rg7+,Kf4,Nxc6,Ke3,Re7+,Kd3', 'Nb4+,Kc4,Nxa2', 'https://lichess.org/training/3cB4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3cCbn', 'Rapid', 'isse1553', 1853, 'leo7788', 1839, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,cxd5,exd5,e3,h6,Bxf6,Bxf6,Nf3,O-O,Be2,Be6,O-O,Nc6,Qc2,a6,Rfc1,Qd7,a3,Ne7,Na4,Rac8,Nc5,Qc6,Qd2,Qb6,Ne5,Bxe5,dxe5,Rfd8,Bf3,c6,Nxe6,fxe6,b4,Ng6,Qd4,Qc7,Bg4,Qe7,f4,Nh4,g3,Nf5,Qd3,Qf7,e4,dxe4,Qxe4,Rd5,Bxf5,Qxf5,Qf3,Rd3,Qf2,Rcd8,Qb6,Qe4,Re1,Qf3,Rf1,Qe2,Qf2,Qxf2+,Rxf2,Rd1+,Rxd1,Rxd1+,Kg2,Kf7,Rc2,Rd3,Ra2,Kg6,Kf2,Kf5,Ke2,Ke4,a4,Rb3,b5,axb5,axb5,Rxb5,Ra4+,Kf5,h3,h5,Rd4,Rd5,Rb4,b5,Ke3,Rc5,Kd3,Rd5+,Ke3,Rd1,Rb3,Re1+,Kf3,Re4', 'g4+,Kg6,Kxe4', 'https://lichess.org/training/3cCbn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3CCvv', 'Rapid', 'KasparovsNemesis', 1606, 'jmurr5', 1637, 'e4,e6,d4,d5,Nc3,c5,Nf3,Nc6,Bb5,a6,Bxc6+,bxc6,Ne5,Qc7,Bf4,Nf6,Ng6,Qb6,Nxh8,Qxb2,Bd2,cxd4,Rb1,Qa3,Rb3,Qc5,Ne2,Nxe4,Bb4,Qc4,Qd3', 'Bxb4+,Rxb4,Qxb4+', 'https://lichess.org/training/3CCvv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3cHcP', 'Classical', 'CheckMaths', 1610, 'Sudeep111', 1628, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Bd6,d3,b5,a3,Bg4,h3,Bh5,O-O,Qf6,Bg5,Bxf3,Bxf6,Bxd1,Bxg7,Bxc2,Bxh8,Bxd3,Rfd1,Bc4,Bg7,O-O-O,a4,b4,Nb1,Rd7,Nd2,Be6,Rac1,c5,Nc4,f6,Nxd6+,cxd6,Bf8,Kc7,f3,Bb3,Rd3,Bxa4,b3,Bb5,Rd2,Rd8,Bxd6+,Rxd6,Rxc5+,Kb6', 'Rxb5+,Kxb5,Rxd6', 'https://lichess.org/training/3cHcP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3CKM9', 'Rapid', 'sandeep07', 1657, 'Beeco76', 1632, 'e4,e5,Nf3,Nc6,Bc4,Nd4,d3,Nf6,Ng5,d5,exd5,Bd6,Be3,O-O,O-O,Nf5,Bc1,h6,Ne4,Nxe4,dxe4,Nh4,Nd2,Qg5,g3,Bh3,Nf3,Nxf3+,Qxf3,Qe7,Re1,f5,Qh5,Bg4,Qh4,Qxh4,gxh4,fxe4,Rxe4,Bf5,Re2,a6,Be3,b5,Bd3', 'e4,Bxb5,axb5', 'https://lichess.org/training/3CKM9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3cl8p', 'Rapid', 'BlitzK1ng', 1850, 'SergeyGylyaev', 1906, 'd4,Nf6,Nc3,e6,e4,Bb4,e5,Nd5,Bd2,Bxc3,Bxc3,Qg5,Bd2,Qf5,Nf3,Qe4+,Be2,Nc6,O-O,Nxd4,Nxd4,Qxd4,Re1,Qxe5,Bc4,Qd6,Bg5,O-O,Bxd5,exd5,Be7,Qb6,Bxf8,Kxf8,Qxd5,d6,b3,Be6,Qf3,Re8,Re3,d5,Rae1,h6,Qxd5', 'Qxe3,Rxe3,Bxd5', 'https://lichess.org/training/3cl8p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3cMOY', 'Blitz', 'SilentFlute', 2104, 'ALMAVIVA', 2056, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,Bf5,Bc4,e6,O-O,c6,h3,Bd6,Nh4,Bg6,Re1,Nbd7,Bg5,Qc7,d5,cxd5,Bxd5,Nxd5,Nxd5,Qc5,Bf4,Bxf4,Nxf4,Qxc2,Qd6,Qc6,Qb4,a5,Qd4,Nf6,Nhxg6,hxg6,Rac1,Qd7,Qc5,Rd8,Qxa5,O-O,Qb4,Nd5,Nxd5,Qxd5,a3,Rc8,Rcd1,Qg5,Qxb7,Rc2,b4,Rfc8,Qe4,R8c4,Qe3,Qf5,Ra1,Rf4,f3,Rfc4,b5,R4c3,Qe4,Qc5+,Kh2,Qf2,Rg1,Rxf3,Rad1,Qg3+,Kh1', 'Qxh3+,gxh3,Rxh3#', 'https://lichess.org/training/3cMOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3CQ5t', 'Blitz', 'wildleax', 1645, 'BSGBulbul', 1659, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Bb6,d4,exd4,cxd4,Ba5+,Bd2,Bxd2+,Nbxd2,d6,O-O,Nf6,d5,Ne7,h3,Ng6,Re1,h5,a4,Ng4,hxg4,hxg4,Nd4,Qh4,Kf1,Qh1+,Ke2,Qxg2,Rg1,Qh2,Rh1,Qg2,Rxh8+,Nxh8,Qh1,Qxh1,Rxh1,Ng6,f3,gxf3+,N2xf3,Bg4,Ke3,O-O-O,Rg1,Bxf3,Kxf3,Rh8,b4,Rh3+,Rg3', 'Ne5+,Kf2,Rxg3,Kxg3,Nxc4', 'https://lichess.org/training/3CQ5t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3CQ8K', 'Blitz', 'dylanriver', 2396, 'tigrancarajonosian76', 2445, 'e4,e6,d4,d5,exd5,exd5,Qf3,c6,Bd3,Qf6,Qe2+,Qe7,Nf3,Qxe2+,Kxe2,Bg4,Nd2,Bd6,h3,Bh5,Re1,Ne7,Kf1,Bg6,Bxg6,hxg6,c4,dxc4,Nxc4,Kd7,Nxd6,Kxd6,Ne5,Rf8,Bf4,Kd5,Rac1,Na6,Nd3,Rfe8,Re5+,Kxd4,Rc3,Nd5', 'Be3+,Nxe3+,fxe3#', 'https://lichess.org/training/3CQ8K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3CU5z', 'Classical', 'svits', 1778, 'Nikola-T', 1676, 'd4,d5,Bf4,Bf5,c4,c6,Nc3,e6,Nf3,Nf6,Qb3,Qb6,c5,Qxb3,axb3,a6,h3,h6,e3,Nbd7,b4,Be7,Nd2,O-O,Nb3,Bd8,Bd6,Re8,b5,Be7,Bxe7,Rxe7,bxa6,bxa6,Rxa6,Rxa6,Bxa6,Nb8,Be2,Rb7,Bd1,Bd3,Kd2,Bc4,Bc2', 'Bxb3,Bxb3,Rxb3', 'https://lichess.org/training/3CU5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3cwwV', 'Classical', 'alexx062', 1863, 'Chaboox', 2083, 'd4,Nf6,Nf3,c5,c4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bf4,Qb6,Qb3,e6,Qxb6,axb6,h3,Be7,Nd2,O-O,Be5,d5,e3,Bb4,Bd3,Ba6,Bxf6,gxf6,a3,dxc4,Be4,Rad8,axb4,Bb5,Rc1,Ra8,Nxc4,Bxc4,Bxc6,Ra2,b3', 'Re2+,Kf1,Rc2+,Kg1,Rxc1+', 'https://lichess.org/training/3cwwV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3cXhq', 'Rapid', 'Aldeir', 1665, 'SetTheorist', 1855, 'e4,c5,Nf3,Nc6,d4,d6,d5,Ne5,Bf4,Nxf3+,Qxf3,g6,Qe3,Bg7,Nc3,Nf6,Bh6', 'Ng4,Bb5+,Bd7,Bxd7+,Qxd7', 'https://lichess.org/training/3cXhq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3d0i0', 'Rapid', 'CrescentFreya', 2097, 'MUSTANG25', 1957, 'c4,e5,g3,d5,cxd5,Qxd5,Nf3,e4,Nc3,Qc6,Nd4,Qb6,Nc2,Bc5,e3,Nf6,Bg2,Bg4,f3,exf3,Bxf3,Bxf3,Qxf3,Nc6,Na4,Qb5,Nxc5,Qxc5,Na3,O-O-O,O-O,h5,d4,Qd6,Nc4,Qe7,b3,h4,g4,Rxd4,exd4,Nxd4,Qf2,Qe4,Bb2', 'Ne2+,Qxe2,Qxe2', 'https://lichess.org/training/3d0i0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3D2Qz', 'Blitz', 'ABP76', 1594, 'Portuga2000', 1535, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,d5,exd5,Qxd5,Be2,Bg4,O-O,Bc5,Qc2,e4,dxe4,Nxe4,Rd1,Bxf2+,Kh1,Qh5,Qxe4+,Ne7,Qxb7,O-O,Bf4,Nf5,Na3,g5,Bxg5,Bxf3,Bxf3,Qxg5,Qxc7,Ng3+,hxg3', 'Qh6+,Bh5,Qxh5#', 'https://lichess.org/training/3D2Qz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3d7Zk', 'Rapid', 'rinatik', 1800, 'Coffee-Mate', 1707, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf5,d6,Bg5,Bxf5,exf5,h6,Bxf6,Qxf6,Nd5,Qd8,Bc4,Na5,Bb5+,Nc6,Qh5,Qa5+,Nc3,a6,Bc4,Nd8,O-O-O,b5,Bd5,Rc8,Ne4,Qa4,Bb3,Qxe4,f3,Qf4+,Kb1,Be7,h4,O-O,g4,Nc6,g5,Qxf5,Rdg1,Kh7,Bxf7,Qxf7', 'g6+,Kg8,gxf7+', 'https://lichess.org/training/3d7Zk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3D81H', 'Rapid', 'bigtony51', 1797, 'disanvi', 1804, 'e4,c5,e5,Nc6,Nf3,e6,d3,Be7,Bf4,Qb6,b3,Nh6,Bxh6,gxh6,Nbd2,Rg8,Nc4,Qd8,Qe2,d5,Ncd2,Qa5,a3,Nd4,Nxd4,cxd4,a4,Bb4,g3,Bc3,Rd1,b5,axb5,Qxb5,Bg2,a5,O-O,a4,bxa4,Qxa4,Nb1,Bb7,Nxc3,dxc3,Ra1,Qxa1,Rxa1,Rxa1+,Bf1,d4,f3,Ke7,Kg2,Bd5,Kh3,Rb8,Bg2,Rb2,f4,Bxg2+,Qxg2,Raa2,Kg4,Kf8,Qe4,Kg7,Qxd4,Rxc2,h4,Ra5,f5,Rd5,Qe4,exf5+,Qxf5,Rd2', 'Qf6+,Kg8,e6,fxe6,Qxe6+', 'https://lichess.org/training/3D81H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3dCJS', 'Bullet', 'heltonparreiras', 1631, 'SkinnyFat', 1609, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,g6,Nf3,Bg7,O-O,b6,Qe2,Bb7,Rd1,Rc8,Bf4,e5,Bg5,Nf6,Nd5,O-O,Rac1,Nd4,Nxd4,exd4,Rxd4,Bxd5,Rxd5,Re8,Qf3,Rxe4,Bxf6,Rcxc4,Bxd8', 'Rxc1+,Rd1,Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/3dCJS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3dcuu', 'Rapid', 'nikolas64', 1967, 'krew88', 2031, 'd4,d5,Bf4,Nf6,e3,e6,Bd3,Bd6,Bg3,Bxg3,hxg3,Nbd7,Nf3,c5,c3,cxd4,exd4,Ne4,Nbd2,Ndf6,Ne5,g6,Qf3,Nxd2,Kxd2,Qe7,g4,O-O,g5,Nd7,Rxh7,Nxe5,Qh3,Qxg5+,Kc2,Nxd3', 'Rh8+,Kg7,Qh7+,Kf6,Rxf8', 'https://lichess.org/training/3dcuu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3DdBM', 'Classical', 'Densityking', 1877, 'durrel', 1790, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,b6,e4,d6,Bd3,O-O,e5,dxe5,dxe5,Nfd7,h4,Bb7,Bxh7+,Kxh7,Ng5+,Kg8', 'Qh5,Nf6,exf6', 'https://lichess.org/training/3DdBM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Dek0', 'Rapid', 'hover', 1857, 'shahmatchi', 1886, 'd4,c6,c4,f5,Nc3,Nf6,Bg5,d6,Nf3,e6,g3,Be7,Bxf6,Bxf6,Bg2,O-O,O-O,Bd7,Qc2,Be8,e3,Bh5,Ne2,Nd7,h3,h6,Nh2,g5,g4,fxg4,hxg4,Bf7,Nf3,Kg7,Kh2,Bg6,Qb3,Rb8,Rh1,d5,c5,e5,dxe5,Bxe5+,Nxe5,Nxe5,Kg3,Qc7,f4,Nd3,Qc3+,Kh7,Raf1,Rbe8', 'Rxh6+,Kxh6,Rh1+', 'https://lichess.org/training/3Dek0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3dIoY', 'Blitz', 'bluesky22', 1800, 'CM kakovski', 2226, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bb5+,Nc6,Ne5,Bd7,Nxd7,Qxd7,Bg5,e6,O-O,Ne4,Bh4,Bd6,f3,Nf6,Bxf6,gxf6,f4,Rg8,c3,Qc7,Qh5,O-O-O,Na3,Bxf4,Bxc6,Bxh2+,Qxh2,Qxc6,c4,dxc4,Nxc4,Rxd4,Rac1', 'Rxc4,Rxc4,Qxc4', 'https://lichess.org/training/3dIoY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3dKUh', 'Rapid', 'rmnp', 2389, 'allmight87', 2460, 'd4,d5,c4,c6,Nf3,Nf6,e3,e6,Nbd2,Nbd7,Bd3,b6,O-O,Bb7,b3,Be7,Bb2,Rc8,Qe2,Qc7,Ne5,Nxe5,dxe5,Nd7,f4,g6,cxd5,cxd5,Rac1,Qb8,Nf3,Rxc1,Rxc1,O-O,Nd4,Nc5,Bb1,Rc8,Qg4,Ne4,Bxe4,Rxc1+,Bxc1,dxe4,h4,Qc8,Bd2,h5,Qh3,Qd8,g4,hxg4,Qxg4,Bxh4,Bb4,Be7,Bxe7,Qxe7,Kf2,Qa3,Qg5,Qxa2+,Kg3,Qd2,f5,Qe1+,Kg2,Ba6,Qd8+,Kh7,fxg6+,fxg6,Qe7+,Kh6,Qf8+,Kh5,Qh8+,Kg4', 'Qh3+,Kg5,Nxe6#', 'https://lichess.org/training/3dKUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3DNAB', 'Blitz', 'Prioux56', 1849, 'negroraul', 1771, 'd4,f5,c3,Nf6,Qc2,e6,Bg5,d5,Nd2,Be7,g3,O-O,Bg2,c6,Ngf3,Nbd7,Bxf6,Nxf6,Ne5,Kh8,f4,Ne4,Nxe4,fxe4,e3,g5,O-O-O,gxf4,gxf4,Bh4,Rdg1,Bd7,Bh3,Qe7,Rg2,c5,Rhg1,Bf6,dxc5,Bxe5,fxe5,Qxc5,Qe2,Rf3,Rg3,Bb5,Qd2,Raf8,b4,Qc4,Bxe6,Rf1+,Rxf1,Rxf1+,Kb2,Rf8,Bxd5,Qf1,Rg2,Bd3,e6,Qb1+,Ka3,a5,e7', 'axb4+,cxb4,Ra8#', 'https://lichess.org/training/3DNAB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3DNdz', 'Rapid', 'SouzaMoraes', 1722, 'izmen10', 1670, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,dxe5,Nxe5,Bxd7+,Nxd7,Nc3,Ngf6,Bg5,Be7,Qd2,Nc5,O-O-O,O-O,Rhe1,Ng4,Bxe7,Qxe7,h3,Ne5,Nxe5,dxe5,g4,b5,b4,Ne6,Nd5,Qd6,g5,c6', 'Nf6+,gxf6,Qxd6', 'https://lichess.org/training/3DNdz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3dPM2', 'Blitz', 'GM GrigorGrigorov', 2749, 'IM Abik02', 2590, 'd4,d5,Nf3,Nc6,Bf4,Nf6,e3,Nh5,Be2,Nxf4,exf4,g6,c3,Bg7,Ne5,O-O,g3,Nxe5,fxe5,c5,Nd2,Qb6,Qb3,Qc7,Nf3,b6,O-O,h6,Rac1,c4,Qc2,Bf5,Qd2,f6,exf6,exf6,Nh4,Qd7,Rfe1,Rae8,Bf3,g5,Nxf5,Qxf5,Bg2,Kf7,Rxe8,Rxe8,Re1,Rxe1+,Qxe1,Bf8,Qd1,Bd6,Qh5+,Kg7,Qe8,Qb1+,Bf1,Qe4,Qd7+,Qe7,Qf5,Qe4,Qxe4,dxe4,Bxc4,f5,Bd5,Kf6,g4,Bf4,h3,Bc1,b3,Bb2,c4,Bxd4,Kg2,Ke5,gxf5,Kxf5,Kf1,Kf4,Ke2,Bc5,Bc6,a5,Bd5,h5,Bf7,g4,hxg4,h4,g5,h3,g6', 'h2,g7,h1=Q,g8=Q,Qf3+', 'https://lichess.org/training/3dPM2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3dPmG', 'Rapid', 'gordodeolinda', 1801, 'ralfjoseflieb', 1866, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,Bc5,Nc3,Qf6,Nf3,Nd4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/3dPmG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3dpZ3', 'Classical', 'millin', 2211, 'MeBeKa', 2024, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,h3,Nf6,Bd3,Ne4,c3,Bf5,O-O,e6,Bb5,Nd6,Bxc6+,bxc6,Ne5,Qb6,Na3,Qa6,Nc2,Bxc2,Qxc2,Nc4,f4,Nxe5,fxe5,Be7,Qf2,O-O,Be3,f5,h4,Rab8,Bg5,Bxg5,hxg5,Qb6,b3,Qd8,Qe3,Rf7,Rf3,f4,Rxf4,Qxg5,Raf1,Rbf8,R4f3', 'Qxe3+,Rxe3,Rxf1+', 'https://lichess.org/training/3dpZ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3DQbO', 'Blitz', 'Zorro9roronoa', 1640, 'mjaar', 1630, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be2,h5,Bg5,Qd4,O-O,Qd6,Nd2,Ng4,Nf3,f6,Bc1,h4,d4,Bb6,h3,c5,hxg4,cxd4,b3,h3,g3,d3,Qxd3', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/3DQbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3DTCd', 'Classical', 'pjf399', 1822, 'iPhone_pro', 1826, 'e4,c5,Nf3,Nc6,Bb5,Nd4,Nxd4,cxd4,c3,a6,Be2,Qb6,cxd4,Qxd4,Nc3,Nf6,d3,e5,Be3,Qb4,O-O,Be7,Qd2,O-O,a3,Qd6,f3,b5,d4,exd4,Qxd4,Qxd4,Bxd4,Re8,b4,Nh5,Nd5,Bd6,g3,Bb7,f4,Bxd5,Bxh5,Rxe4,Bf2,g6', 'Bf3,Bc6,Bxe4', 'https://lichess.org/training/3DTCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3DUbI', 'Rapid', 'rysev', 1830, 'HopChiki', 1858, 'e4,c6,c4,d5,cxd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,exd5,Ngf6,Nc3,Nc5,b4,Nd3+,Ke2,Nxc1+,Rxc1,Nxd5', 'Qa4+,Qd7,Qxd7+,Kxd7,Nxd5', 'https://lichess.org/training/3DUbI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3dVd4', 'Rapid', 'Moritz-sein-Papa', 1649, 'Taichitenor', 1738, 'd4,Nf6,f4,c5,Nf3,cxd4,Nxd4,g6,f5,Bg7,fxg6,fxg6,c3,O-O,Na3,d5,Bf4,Nc6,e3,Re8,Bg5,Nxd4,exd4,Ne4,Be3,e5,Bb5,Bd7,Bxd7,Qxd7,O-O,Re6,Qc1,Rae8,Bh6,a6,Nc2,b5,dxe5,Rxe5,Nd4,Rh5,Bxg7,Qxg7,Nf3,Qc7,Qe1,Qc5+,Nd4,Qc8,Rf4,Rg5,Nf3,Rf5,Rxf5,Qxf5,Qh4,g5,Qh5,Rf8,Rf1,Qf4,Nd2,Qe3+,Kh1,Qxd2,Rxf8+,Kxf8,Qh6+,Kf7,Qxh7+,Kf6,Qh6+,Kf5,Qf8+,Nf6,g4+,Kxg4,Qxf6,Qxb2,Qd4+,Kh5,Qh8+,Kg4,Qd4+,Kf3,Qd3+,Kf2', 'Qg3+,Ke2,Qg2+,Ke3,Qxb2', 'https://lichess.org/training/3dVd4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3dWqF', 'Rapid', 'WFM KajsaWarg', 2094, 'VRazumow', 2080, 'e4,c5,Nc3,e6,f4,a6,Nf3,Nc6,g3,d5,d3,d4,Ne2,Bd6,Bg2,e5,f5,f6,c3,Qe7,b4,cxb4,cxd4,exd4,O-O,Bc5,Bb2,Qd7,Rc1,b6,Kh1,Bb7,Nf4,Nh6,Ne6,Ng4,Nfxd4,Bxd4,Bxd4,Nge5,Bxe5,fxe5,Qh5+,Qf7,Nc7+,Ke7,Qxf7+,Kxf7,Nxa8,Rxa8,Rc2,Rd8,Rd1,Rd4,Bf1,Ke7,Rdc1,Kd7,g4,h6,h4,a5,g5,a4,f6,gxf6,g6,Kc7,g7,Rd8,Rg2,Rg8,Rg6,Kd8,d4,Ne7,Bc4', 'Bxe4+,Kh2,Bxg6', 'https://lichess.org/training/3dWqF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3dYfC', 'Rapid', 't1z1', 1726, 'ssdagar', 1729, 'e4,b6,Nf3,e6,Nc3,Bb7,d4,Bb4,e5,f6,Bd2,Bxc3,Bxc3,f5,Bd3,g6,O-O,g5,h3,h5,Bd2,g4,hxg4,hxg4,Ng5,Rh5,Qc1,d6,Nxe6,Qh4,f3,Qh2+,Kf2,Qg3+,Ke2,Qxg2+,Ke3,Ke7,Nxc7,Bxf3,Nxa8,Bxa8,Rf2,Rh3+,Ke2,Bf3+,Ke1', 'Rh1+,Bf1,Rxf1+,Rxf1,Qe2#', 'https://lichess.org/training/3dYfC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3e10O', 'Rapid', 'Ravi_Razavi', 1998, 'Alexander52', 1935, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,Nc6,d3,e6,O-O,Be7,Be3,a6,Nd2,Nb4,a3,Nc6,Qg3,Nh5,Qg4,g6,Bh6,Bf8,Bxf8,Kxf8,Nf3,Qf6,d4,Nf4,Rae1,h5,Qg5,Qxg5,Nxg5,Nxd4,g3,Nfe2+,Kg2,Nxb3,Rxe2,Nd4,Rd2,Nf5,Re1,Rc8,c3,b5,Nxe6+,fxe6,Rxe6,Kf7,Rxa6,Rhd8,Re2,Re8,Ra7+,Kf6,Rd2,Red8,g4,hxg4,hxg4,Nh6,Kg3,Kg5', 'f4+,Kf6,g5+', 'https://lichess.org/training/3e10O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3E6ki', 'Classical', 'LEMONSAVAGE', 1851, 'Strobex_Gaming', 1864, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,d6,cxd4,Bd7,Qb3,Qe7,Nc3,Nf6,Nd5,Nxd5,exd5,O-O,dxc6,Bxc6,d5,Bd7,Bd2,Bb6,Rfe1,Qf6,Bc3,Qg6,Bd4,Bg4,Bxb6,axb6,Qd3,Qf6,Nd2,Rae8,Rxe8', 'Qxa1+,Qf1,Qxf1+,Kxf1,Rxe8', 'https://lichess.org/training/3E6ki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3e7Ig', 'Blitz', 'Berserker69', 1846, 'Rydy', 1848, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,h3,Bh5,g4,Bg6,Nc3,Nd7,Bg5,Qb6,Bd3,Qxb2,Na4,Bb4+,Kf1,Qa3,c3,Bxc3,Bc1,Qb4,Rb1,Qa5,Nxc3,Qxc3,Bxg6,hxg6,Rxb7,Nb6,Ng5,Ne7,Kg2,Qa5,Qf3,Rf8,Nh7,Qa6,Rxe7+,Kxe7,Bg5+,Ke8,Nxf8,Kxf8,h4,Qxa2,h5,Qc2,h6,gxh6,Rxh6,Qe4,Qxe4,dxe4', 'Rh8+,Kg7,Bf6#', 'https://lichess.org/training/3e7Ig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3eA9v', 'Rapid', 'ismayil36', 1612, 'DemGol23', 1603, 'e4,e5,a3,d5,exd5,Qxd5,Nc3,Qe6,d3,h6,Be3,Nf6,Qe2,Nc6,O-O-O,a6,h3,a5,f4,Bd6,fxe5,Bxe5,Ne4,Bd7,Nxf6+,Qxf6,Nf3,Bxb2+,Kd2,Bc3+,Kc1,Qe6,d4,Qa2', 'Bd2+,Ne7,Bxc3', 'https://lichess.org/training/3eA9v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3eGpy', 'Rapid', 'ahmed199999', 1966, 'C2WHH', 1981, 'e4,c5,Nf3,d6,Bc4,Nf6,e5,dxe5,Nxe5,e6,d3,Bd6,Bf4,O-O,O-O,Nd5,Bg3,a6,Nc3,Nxc3,bxc3,Nd7,Ng6,Bxg3,Nxf8,Bxh2+,Kxh2,Qh4+,Kg1,Nxf8,f4,Nd7,f5,Nf6,fxe6', 'Ng4,Qxg4,Qxg4,exf7+,Kf8', 'https://lichess.org/training/3eGpy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3EhZ1', 'Bullet', 'mikeltxo', 1645, 'faramarzmoezzi', 1676, 'e4,e5,f4,d6,fxe5,dxe5,Nf3,f6,Bc4,Bc5,d3,Ne7,a3,Nd7,b4,Bb6,a4,a6,a5,Ba7,Nbd2,b5,Bb3,c5,bxc5,Nxc5,Ba2,Ng6,h4,Ne6,Bd5,Rb8,Ba3,Bc5,Bc6+,Bd7,Bd5,Bxa3,Rxa3,O-O,h5,Ne7,h6,g6,Nh4,Kh8,Qf3,Ng5,Qf2,Nxd5,exd5,Bg4,Ne4,Qxd5,Nxg6+,hxg6,Qg3,Bh5,Nxg5,fxg5,Qxg5,Qc5,Rf1,Qxa3,Rxf8+,Rxf8', 'Qxe5+,Rf6,Qxf6+,Kh7,Qg7#', 'https://lichess.org/training/3EhZ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Eir0', 'Rapid', 'habib-54', 1690, 'shulyaeff', 1670, 'd4,Nf6,Nc3,d5,Nf3,Bg4,Ne5,Bf5,f3,Nfd7,g4,Be6,Nd3,g6,Bf4,Bg7,e3,a6,Ne5,Nxe5,Bxe5,Bxe5,dxe5,Nc6,Qe2,Nxe5,O-O-O,Nxg4,fxg4,O-O,h4,Qc8,Rd4,c5,Rf4,b5,h5,d4,exd4,cxd4,Ne4,Rd8,Ng5,d3,Qf2', 'd2+,Qxd2,Rxd2', 'https://lichess.org/training/3Eir0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3EmPs', 'Rapid', 'Leo4164', 1717, 'elsayed2700', 1608, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nb5,Qa5+,N5c3,Nf6,Bd3,Nc6,O-O,Be6,Bd2,Qd8,Bg5,Be7,Qf3,Nd4,Qd1,O-O,Ne2,h6,Nxd4,cxd4,Bf4,g5,Bd2,Nd7,c3,Bf6,Qh5,dxc3,Nxc3,Ne5,Bc2,Bg7,Kh1', 'Bg4,Qxg4,Nxg4', 'https://lichess.org/training/3EmPs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3EOkU', 'Rapid', 'JAHCUBE4', 1822, 'zhjvbh10', 1833, 'd4,Nf6,Bf4,e6,h3,c5,c3,cxd4,cxd4,d5,a3,Bd6,Bxd6,Qxd6,Nf3,Nc6,e3,Bd7,Nc3,a6,Be2,O-O,O-O,Rac8,Qd2,Ne4,Qd3,f5,Nd2,b5,b4,Nxb4,axb4,Rxc3', 'Nxe4,Rxd3,Nxd6', 'https://lichess.org/training/3EOkU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3EOxm', 'Rapid', 'ba7gar', 1869, 'alighamdi', 1858, 'd4,Nf6,c4,e6,Bf4,d5,c5,Be7,Nd2,O-O,h3,Nc6,Ngf3,b6,cxb6,axb6,a3,Bd6,Bxd6,cxd6,e3,Ba6,Bxa6,Rxa6,O-O,Na5,b4,Nc4,Nxc4,dxc4,b5,Ra5,a4,d5,Ne5,Qd6,Qd2,Ne4,Qb2,c3,Qc2,Raa8,f3,Ng3,Rfb1,f6,Nc6,e5,Rb3,exd4,exd4,Rfe8,Rbb1,Re2,Qd3,c2,Re1,Rae8,Rxe2,Rxe2,Rc1,Qf4,Rxc2,Re1+,Kf2,Rf1+,Qxf1,Nxf1,Kxf1,Qe3,Re2,Qd3,Kf2,Qa3,Re8+,Kf7,Re7+,Kf8,Ra7,f5,Re7,f4,Re5,g6,Rxd5', 'Qa2+,Kg1,Qxd5', 'https://lichess.org/training/3EOxm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3EPZm', 'Rapid', 'M1k3l1n', 1737, 'burza99', 1775, 'd4,d5,c4,dxc4,Nc3,e5,d5,Bb4,e4,c6,Bxc4,cxd5,Bxd5,Qc7,Qb3,Bxc3+,bxc3,Nf6,c4,Be6,Nf3,Bxd5,cxd5,Nxe4,Qa4+,Nd7,Qxe4', 'Qc3+,Nd2,Qxa1', 'https://lichess.org/training/3EPZm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3eQJP', 'Rapid', 'sarapcidayi', 1961, 'faitpaslefouwesh', 1894, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,c3,c5,Be3,Qb6,Qc1,Nc6,Nbd2,f6,dxc5,Bxc5,Bxc5,Qxc5,Nb3,Qb6,Nbd4,Nxe5,Bb5+,Kf7,Nxf5,Nxf3+,gxf3,exf5,Bd7,Qd6,Bxf5,Qe5+,Qe3,Qxf5,O-O-O,Ne7,Rhe1,Rhe8,Qc5,Qxf3,Qc7,b6,Qd7,Qf5', 'Rxe7+,Rxe7,Qxf5', 'https://lichess.org/training/3eQJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3eR4i', 'Rapid', 'mostafagebril', 1894, 'Nejin', 2080, 'd4,d5,c4,c6,Nc3,g6,cxd5,cxd5,e3,Bg7,Nf3,Nc6,h3,e6,Bd3,Nf6,O-O,a6,Qc2,O-O,a3,Re8,b4,e5,dxe5,Nxe5,Nxe5,Rxe5,Bb2,Re8,Rfd1,Be6,e4,dxe4,Nxe4,Rc8,Qa4,Qe7,Nxf6+,Bxf6,Bxf6,Qxf6,b5,axb5,Bxb5,Red8,Rac1,Qb2,Rxc8,Rxc8,Rf1,Kg7,Qb4,Qa2,a4,Bc4,Rc1,Be6,Rxc8,Bxc8', 'Qc3+,Kg8,Qxc8+', 'https://lichess.org/training/3eR4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Erd7', 'Blitz', 'jyojyo', 1685, 'Mimmo59', 1758, 'e4,c6,f4,d5,e5,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Nd7,Nc3,c5,Be3,c4,Qd2,Qb6,O-O-O,Ne7,g4,a5,Nge2,a4,Ng3,Nc6,a3,Qa6,f5,b5,fxe6,fxe6,Nf5,b4,Nxd5,exd5,e6,Nf6,g5,Ne4,Qe2,g6,Qf3,bxa3,Ng7+,Bxg7', 'Qf7+,Kd8,Qd7#', 'https://lichess.org/training/3Erd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ERy0', 'Blitz', 'Matan13579', 1598, 'BeastKing85', 1594, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Nxb4,c3,Nc6,O-O,Nf6,d4,exd4,cxd4,Bb6,Ba3,d6,e5,Ne4,Re1,d5,Bb5,a6,Bd3,Nxd4,Bxe4,dxe4,Rxe4,Nxf3+,Qxf3,Bg4,Qxg4,Qd3,g3,Qc2,Qxg7', 'Qxf2+,Kh1,Qf1#', 'https://lichess.org/training/3ERy0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3esgN', 'Rapid', 'Kasy87', 1755, 'anisako', 1716, 'e4,c6,Nf3,d5,e5,Bg4,h3,Bxf3,Qxf3,e6,d4,c5,c3,Nc6,Bb5,Ne7,dxc5,Ng6,Qe3,Be7,O-O,O-O,f4,Qa5,Bxc6', 'Bxc5,b4,Bxe3+', 'https://lichess.org/training/3esgN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3eTRj', 'Rapid', 'GFysics', 2030, 'REYALEX2019', 2195, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Be7,cxd5,exd5,Bg5,O-O,Qc2,c6,h3,Be6,e3,Nbd7,Bf4,h6,a3,Re8,Be2,Nb6,b4,a6,O-O,Nc8,Rab1,Nd6,Nd2,Bf5,Bd3,Bxd3,Qxd3,b5,Ne2,Nc4,Bh2,Bd6,Ng3,g6,Rfe1,Qc7,Nf3,Ne4,Nf1,Re6,Bxd6,Qxd6,N1d2,Rae8,Nxc4,bxc4,Qc2,Rf6,Ne5,Rxf2,Qxe4,dxe4,Kxf2,Qf6+,Kg1,Rxe5,dxe5,Qxe5,Rbc1,Qd5,Red1,Qg5,Rc3,a5,Rd4,axb4,axb4,Qg3,Rdxc4,Qe1+,Kh2,Qb1,Rxc6,Qxb4,R6c4,Qd6+,Kg1,Qd1+,Kh2,f5,Rc7,Qd6+,Kg1,Qd1+,Kh2,Qd6+,Kg1,f4', 'Rc8+,Kf7,R3c7+,Ke6,Rc6', 'https://lichess.org/training/3eTRj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Etrm', 'Rapid', 'Miguelasturias', 2046, 'cb3164', 1958, 'e4,e5,f4,d6,Nf3,Bg4,fxe5,dxe5,c3,h6,Bc4,a6,Bxf7+,Ke7,O-O,Qd7,Bxg8,Rxg8,d3,Nc6,Qc2,Re8,Be3,Kd8,Nbd2,Kc8,d4,Bxf3,Nxf3,exd4,cxd4,Qe6,e5,Qd5,a3,g5,h3,g4,hxg4,Rxg4,Rac1,h5,Qc4,Qe4,Bf2', 'Qxf3', 'https://lichess.org/training/3Etrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3evYQ', 'Bullet', 'fedenietzsche', 1761, 'BMETOA', 1712, 'c4,Nf6,e3,b6,a3,Bb7,Nc3,e6,b4,d5,Nf3,Be7,Qc2,O-O,Bb2,h6,h4,dxc4,Bxc4,Nc6,Ng5,Ne5,Nce4,Nxc4', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/3evYQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3eXJl', 'Rapid', 'miphreal', 1729, 'Oglesby', 1682, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,a6,O-O,Bc5,Nxc6,bxc6,Qf3,Nf6,e5,d5,exd6,Bxd6,Qxc6+,Bd7,Re1+,Be7,Qf3,O-O,a3,c5,Qe3,Bd6,Bd2,Bxh2+,Kf1,Ng4,Qxc5,Qf6,f3,Bg3,Re4,Qxb2,Bc3,Nh2+,Ke2,Qxc2+,Bd2,Rfe8', 'Bxf7+,Kxf7,Qxc2', 'https://lichess.org/training/3eXJl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ExrO', 'Blitz', 'Vivek-anand', 1837, 'mithu25711', 1848, 'd4,Nf6,Nf3,e6,c4,Bb4+,Bd2,Be7,Nc3,O-O,e4,d5,e5,Ne4,cxd5,exd5,Bd3,c5,Bxe4,dxe4,Nxe4,Qxd4,Nxd4,cxd4,O-O,Bf5,Ng3,Be6,Rc1,Nc6,b3,Nxe5,Bf4,Nc6,Qe2,Rad8,Rfd1,Rfe8,Qb5,Bc8,Ne4,Ba3,Rc4,Rxe4,Bc7,Rde8,Rxc6', 'Re1+,Rxe1,Rxe1+,Qf1,Rxf1+,Kxf1,bxc6', 'https://lichess.org/training/3ExrO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3EYDC', 'Blitz', 'u_k', 2113, 'Godaga77', 2201, 'd4,Nf6,Nf3,c5,c3,Qb6,Qb3,Qxb3,axb3,cxd4,Nxd4,d6,Nb5,Kd8,Be3,a6,Bb6+,Kd7,Nc7,Ra7,Bxa7,Kxc7,Bxb8+,Kxb8,b4,Be6,e3,g5,Nd2,h5,Bc4,Bxc4,Nxc4,g4,h3,gxh3,Rxh3,Bh6,Nd2,Rg8,g3,Kc7,Nf3,Kd7,Nd4,e5,Nf5,Bf8,Ke2,Ke6,Nh4,Bh6,Nf3,Ne4,Nd2,Nf6,Rhh1,Rg4,Rh4,Rg8,Ra5,Rd8,b5,axb5,Rxb5,Rb8,Rhb4,Ng4,Rxb7,Ra8,Rb8,Ra1,Rh8,Rg1,Rxg4,Bxe3,Rh4,Bc5,R8xh5,f6,b4,Bb6,c4,Rg2,Rh2,Rg1,b5,Ra1,Rh6,Ra2,Ke1,Ra1+,Ke2,Ra2,Kd1,Kf5,R2h5+,Kg4,Rh4+,Kg5,R6h5+,Kg6,Rh8,Ba5,Nf1,Rxf2,Nh2,Rd2+,Kc1,Rg2,g4,Bd2+,Kd1,Bg5,R4h5,e4,b6,Rb2,Rb8,e3,Nf3,Bf4,Rhh8', 'e2+,Ke1,Bg3#', 'https://lichess.org/training/3EYDC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3F47t', 'Rapid', 'Hinder31', 1838, 'youdi99', 1840, 'e4,e5,Nf3,Bc5,d4,exd4,Nxd4,Bxd4,Qxd4,Nc6,Qxg7,Qf6,Qg3,Nge7,Qxc7,Ne5,Be2,a6,Nc3,Rg8,O-O,Nf3+,Kh1,Nh4,Nd5,Nxd5,exd5,d6,Qc4,Nxg2,Qe4+,Kf8,Bf3,Nh4,Bf4,Bf5,Bxd6+,Qxd6,Qxh4,Re8,c4,Qg6,Rg1,Be4,Rxg6', 'Bxf3+,Kg1,Rxg6+', 'https://lichess.org/training/3F47t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3f5nr', 'Blitz', 'larralde82', 2011, 'primertigre1999', 1805, 'd4,e5,dxe5,d6,Nf3,Nc6,e3,Bg4,Be2,Bxf3,Bxf3,Nxe5,Be2,Nf6,O-O,d5,Nd2,h5,Nf3,Bd6,Nxe5,Bxe5,Bf3,Ng4,h3,Qh4,Qxd5,Rd8,Qb5+,c6,Qxb7,Nxf2,Rxf2,Qg3,Qxc6+,Kf8,Qe4', 'Qh2+,Kf1,Qh1+,Ke2,Qd1#', 'https://lichess.org/training/3f5nr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3F6OZ', 'Rapid', 'floydian94', 2141, 'ArtemDyachuk', 1912, 'e4,e5,Nf3,Nc6,Bb5,f5,Bxc6,dxc6,Nc3,Nf6,Qe2,Bd6,d3,O-O,Bg5,f4,a3,h6,Bxf6,Qxf6,h4,h5,Ng5,Bg4,f3,Bd7,O-O-O,b5,Na2,a5,g3,fxg3,Rdg1,b4,a4,c5,b3,c4,dxc4,Bc5,Rd1,Qf4+,Kb1,Bd4,Nc1,Bc6,Qd3,g2,Rhg1,Qh2,Ne2,Bxg1,Rxg1,Qxh4,Rxg2,Rad8,Qe3,Qe1+,Kb2,Rd1,Rg1,Qd2,Qxd2,Rxd2,Ng3,h4,Nf5,Bd7,Nxh4,Rh2,Ng6,Re8,f4,exf4,Nxf4,Bc6,Nge6,Bxe4,Rxg7+,Kh8,Rxc7,Rxc2+,Ka1,Bf5,Rc6,Bxe6,Rxe6,Rf8', 'Ng6+,Kg7,Nxf8', 'https://lichess.org/training/3F6OZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3F752', 'Rapid', 'Alen-Kaan', 1675, 'SalihErbay', 1675, 'e4,e6,Nc3,d5,Bd3,dxe4,Bxe4,Nf6,Nf3,Bc5,d4,Bb4,a3', 'Bxc3+,bxc3,Nxe4', 'https://lichess.org/training/3F752');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3FAGd', 'Blitz', 'vladpodat', 2430, 'IM Biglindba', 2468, 'd4,Nf6,c4,e6,Nf3,b6,a3,Bb7,Nc3,Be7,Bg5,O-O,e3,d5,Rc1,Nbd7,cxd5,exd5,Be2,c5,O-O,h6,Bh4,Ne4,Bxe7,Qxe7,dxc5,Nxc3,Rxc3,bxc5,Qc2,Rac8,Rd1,Rfe8,Bb5,d4,Bxd7,dxc3,Bxc8,Bxf3,gxf3,Rxc8,Qxc3,Qg5+,Kf1,Qh5,Ke2,Qxh2,Rd7,a6,Qc4,Qh5,Qxa6,Rb8,Rb7,Rd8,Qb6', 'Qd5,Qxd8+,Qxd8', 'https://lichess.org/training/3FAGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3FAxw', 'Rapid', 'Ricardas_55', 2119, 'Shadeey', 1843, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be2,Bg7,c3,Nf6,f3,O-O,O-O,d5,exd5,Nxd5,Nxc6,bxc6,Qa4,Bd7,Na3,Qc7,Nc4,Rab8,Qc2,Bf5,Bd3,Bxd3,Qxd3,Rfd8,Qe2,Nxc3,bxc3,Bxc3,Bb2,Rxb2,Nxb2,Rd2,Qe3', 'Bd4,Qxd4,Rxd4', 'https://lichess.org/training/3FAxw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3fc3t', 'Rapid', 'Weteroc54', 2263, 'Psychic_Beast', 2263, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,Bb5+,c6,dxc6,bxc6,Bc4,Be7,O-O,O-O,d4,Bd6,Ne5,Bxe5,dxe5,Qb6+,Kh1,Ng4,Qe2,Ne3,Bxe3,fxe3,Nc3,Qxb2,Qxe3,Qb4,Bb3,Na6,e6,Bxe6,Bxe6,fxe6,Qxe6+,Kh8,Ne4,Nc5,Nxc5,Qxc5,c4,Rae8,Rxf8+,Rxf8,Re1,Qf2,h3,h6,a4,Qc5,Qe7', 'Rf1+,Rxf1,Qxe7', 'https://lichess.org/training/3fc3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3fcxA', 'Blitz', 'CM DavidcabTOP9', 2363, 'Hangover75', 2365, 'd4,Nf6,Nf3,g6,g3,d5,Bg2,Bg7,O-O,O-O,b3,Ne4,Bb2,c5,e3,cxd4,Bxd4,Nc6,Bxg7,Kxg7,Nd4,e5,Nxc6,bxc6,Bxe4,dxe4,Nc3,Bf5,Qe2,Qa5,Qc4', 'Be6,b4,Bxc4', 'https://lichess.org/training/3fcxA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3fEJz', 'Blitz', 'her1378', 2099, 'MohamedHazem2002', 2075, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Bxf6,exf6,c3,O-O,Nbd2,d5,e3,c6,Bd3,f5,O-O,Nd7,h3,Nf6,c4,Be6,c5,Qd7,Ng5,h6,Nxe6,fxe6,Nf3,Ne4,Bxe4,fxe4,Nd2,Kh7,f3,exf3,Nxf3,Rf7,Qe2,Raf8,Rf2,Qc7,Raf1,Qg3', 'Ng5+,Qxg5,Rxf7,Rxf7,Rxf7', 'https://lichess.org/training/3fEJz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3fFL1', 'Rapid', 'camus_1', 1856, 'ibnfadlan', 1689, 'd4,Nf6,c4,d6,Nc3,e6,Bg5,c5,Nf3,cxd4,Nxd4,Nc6,e3,Be7,Bd3,O-O,O-O,Nd7,Bxe7,Qxe7,a3,Nf6,h3,Ne5,Be2,Ng6,b4,e5,Ndb5,Rd8,Nd5,Nxd5,Qxd5,a6,Nc3,Be6,Qd1,Qh4,Nd5,Qg5,Bg4,Bxd5,Qxd5,h5,Bf3,Nh4,Qxb7,Rab8,Qd5,Rbc8,Rac1,Kh8,Qxf7,Rf8,Qxh5+,Qxh5,Bxh5,Rf5,Bg4,Rg5,Bxc8,Rxg2+,Kh1,Rg5,f4,Rg3,fxe5,dxe5,Kh2,Rxe3,Rf8+,Kh7,Bxa6,g5,c5,Rxa3,b5,Ra2+,Kg3', 'Rg2#', 'https://lichess.org/training/3fFL1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3FhXo', 'Blitz', 'amgad55', 1697, 'joku17', 1686, 'e4,c5,f4,e6,c4,Nc6,Nc3,g6,Nf3,Bg7,d3,Nge7,Be2,O-O,O-O,d5,cxd5,exd5,e5,d4,Ne4,b6,h3,Nd5,a3,f6,Nd6,fxe5,fxe5,Nxe5,Nxe5,Rxf1+', 'Qxf1,Qxd6,Qf7+,Kh8,Qe8+', 'https://lichess.org/training/3FhXo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3fiQ9', 'Rapid', 'MrLucky31', 2110, 'somar_k', 2066, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,a6,c4,e6,Nc3,Be7,Be3,O-O,Be2,Nc6,Qd2,Bd7,O-O,d5,cxd5,exd5,exd5,Nxd4,Bxd4,Bf5,Bf2,Bb4,Rfd1,Rc8,a3,Bxc3,bxc3,Re8,Bh4,Qe7,Bxf6,Qxf6,c4,Re5,Bd3,Bxd3,Qxd3,Rh5,Rac1,Qe5,h3,Qg5,Kf1,Rh6,c5,Rg6,Rd2,Qf4,Qd4,Qh2,Qg1,Qf4,Rdc2,Re8,Qf2,Qh2,d6,Rge6,d7', 'Qh1+,Qg1,Re1+,Rxe1,Rxe1+,Kxe1,Qxg1+,Ke2,Qxg2+', 'https://lichess.org/training/3fiQ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3FjG3', 'Blitz', 'BornOfGod', 2130, 'FM carloseduar100', 2265, 'Nf3,Nf6,d4,d5,c4,c6,Nc3,dxc4,a4,e6,Bg5,Be7,e3,O-O,Bxc4,Nbd7,O-O,Nd5,Bxe7,Qxe7,Bd3,Nxc3,bxc3,e5,Bc2,e4,Nd2,f5,Bb3+,Kh8,c4,Nf6,Qe2,Be6,Rab1,b6,Rfd1,Rad8,Nf1,Qf7,Ng3,g6,Ba2,Kg7,Rb2,h5,Nf1,Rd7,Rbd2,Rfd8,h3,Nh7,Nh2,Ng5,f3,exf3,Nxf3,Nxf3+,gxf3,Re7,Re1,Qf6,Qf2,Bf7,e4,fxe4,fxe4,Qxf2+,Kxf2,b5,axb5,cxb5,d5,bxc4,Bxc4,a5,Ke3,a4,d6,Ra7,Bxf7,Kxf7,e5,Ke6,Kd4,a3,Ra2,Ra4+,Kc3,Rb8,Ree2,Rb5,h4,Ra8,Rg2,Kxe5', 'Rg5+,Kxd6,Rxb5', 'https://lichess.org/training/3FjG3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3fk0N', 'Rapid', 'itqan', 1913, 'kaleidoscope', 2053, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Nxc6,bxc6,f4,Nf6,e5,Ng8,Bc4,Nh6,O-O,O-O,Kh1,d5,Bd3,Bf5,Be3,e6,Ne2,Ng4,Bd2,Qh4,h3,Nf2+,Rxf2,Qxf2,Bxf5,exf5,Be1,Qb6,Rb1,Rfd8,Nd4,c5,Nb3,Bf8,Bf2,Qc7,Qf3,d4,Bh4,Be7,Bf6,Bxf6,exf6,Rd6', 'Qxa8+,Rd8,Qf3', 'https://lichess.org/training/3fk0N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3FLP2', 'Rapid', 'Josrub11', 1820, 'evilishies', 1780, 'e4,c5,c3,e5,Nf3,Nc6,d4,cxd4,cxd4,exd4,Nxd4,Nf6,Nc3,Bb4,Nb5,d6,Bd3,a6,Na3,Bxc3+,bxc3,Ne5,Bc2,Qa5,Nb1,Nc4,O-O,O-O,Qd4,b5,Bg5,Be6,Bxf6,gxf6,Qxf6,Rae8,f4,Ne3,Rf3,Qb6,Kh1,Ng4,Rg3,Qf2,Na3,Qxg3,hxg3,Nxf6,Re1,Rc8,Nb1,Bxa2,e5,Ng4,exd6,Rfd8,Bf5,Nf2+,Kh2,Rc6,d7,Rh6+,Kg1,Rf6', 'Re8+,Kg7,Rxd8', 'https://lichess.org/training/3FLP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3fMFb', 'Blitz', 'mayaram1', 1657, 'nazzaki', 1669, 'e4,e5,Nf3,Nf6,Nc3,d6,d4,Nc6,dxe5,dxe5,Qxd8+,Kxd8,Bg5,Bb4,O-O-O+,Ke7,Nd5+,Ke6,Nxc7+,Ke7,Nxa8,Bd6,Bxf6+,gxf6,c4,Be6,c5,Bb8,Kb1,f5,exf5,Bxf5+,Ka1,f6,Nh4,Be6,Bb5,Nb4,f3,Nxa2,Nf5+,Kf7,Nd6+,Ke7,Nxb7,Nb4,Nd6,Bxd6,cxd6+,Kf7,Nc7,Bb3,Rd2,a6,Bd7,Nc2+,Kb1,Nd4,Nxa6,Rd8,Bg4,Rxd6,Nc5,Bd5,f4,Rc6,fxe5,fxe5,Nd7', 'Be4+,Rd3,Bxd3+,Ka1,Ra6#', 'https://lichess.org/training/3fMFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Fp1y', 'Rapid', 'SigmaPhoenix', 1949, 'katren2', 1836, 'd4,c6,c4,d5,Nf3,Nf6,Nc3,e6,Bg5,h6,Bxf6,Qxf6,e3,Bb4,Bd3,c5,dxc5,Bxc3+,bxc3,Qxc3+,Ke2,dxc4,Be4,O-O,Rb1,Nc6,Qa4,Bd7,Rxb7', 'Nd4+,Nxd4,Bxa4', 'https://lichess.org/training/3Fp1y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3fpgI', 'Blitz', 'IM disk11', 2407, 'maxjockes', 2164, 'c4,Nf6,g3,e6,Bg2,d5,Nf3,c6,O-O,Be7,b3,O-O,Bb2,Nbd7,d3,b6,Nbd2,Bb7,Qc2,Rc8,e3,Re8,Rad1,h6,Qb1,c5,Qa1,a5,a3,Ba8,Rfe1,Qc7,cxd5,exd5,Rc1,Bc6,Nh4,g6,Bh3,Nh7,Nxg6,fxg6', 'Be6+,Kf8,Bg7#', 'https://lichess.org/training/3fpgI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Fpwm', 'Rapid', 'DRE_88', 1725, 'clutchcargo', 1741, 'e4,c5,Nf3,Nc6,a3,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Bg5,f6,Bh4,Be6,Nbd2,a6,O-O,Be7,Re1,O-O,Re2,Qc8,Bg3,b5,Ba2,Bd6,Ne4,Bc7,h3,Bb6,Qd2,f5,Neg5,f4,Nxe6,Qxe6,Bxf4,Qd6,Nxe5,Rxf4,Bxd5+,Qxd5,Qxf4,Re8,Qf7+', 'Qxf7,Nxf7,Rxe2', 'https://lichess.org/training/3Fpwm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3fpyx', 'Rapid', 'liminf', 1711, 'PatrickXavier', 1842, 'd4,d5,c4,c6,Nf3,Bg4,Qb3,Qc8,cxd5,cxd5,Nbd2,Nf6,e3,e6,Bb5+,Nfd7,Ne5,a6', 'Bxd7+,Nxd7,Nxg4', 'https://lichess.org/training/3fpyx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3FsCu', 'Blitz', 'herkol2', 2047, 'dffa', 1981, 'e4,c6,e5,d5,exd6,exd6,Nf3,Nf6,d4,d5,Bd3,Bd6,O-O,O-O,c4,Nbd7,c5,Bc7,b4,a6,a4,Re8,Nc3,Ng4,b5,axb5,axb5,Rxa1,bxc6,bxc6,Qc2,Ndf6,h3,Nh6,Bxh6,Rxf1+,Kxf1,gxh6,Qd2,Ba5,Qxh6,Bxc3,Kg1,Re6,Ng5,Bxd4', 'Bxh7+,Nxh7,Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/3FsCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3fUCP', 'Rapid', 'doberm4n', 1799, 'GrafAlex', 1997, 'e4,e6,d4,d5,Nd2,Nf6,Bd3,dxe4,Nxe4,c6,Bg5,Be7,Bxf6,Bxf6,Nxf6+,Qxf6,Nf3,O-O,Qe2,Nd7,O-O-O,Re8,Ne5,c5,Qe4,g6,Ng4,Qxd4,Qxd4,cxd4,Bb5,e5,Rhe1,a6,Ba4,b5,Bb3,Kg7,Rxd4,Nc5,Bd5,Bb7,Bxb7', 'exd4,Rxe8,Rxe8', 'https://lichess.org/training/3fUCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3FuVe', 'Rapid', 'hojat_borna', 1869, 'himanshu74662', 1809, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nf6,Re1,d6,c3,O-O,d4,exd4,cxd4,Bb4,Nc3,Bxc3,bxc3,a6,Ba4,b5,Bc2,Bg4,Qd3,Re8,Bg5,h6,Bh4,Bh5,e5,Bg6,Qd2,dxe5,Bxg6,fxg6,Bxf6,Qxf6,dxe5,Nxe5,Nxe5,Rxe5,Rxe5,Qxe5,Re1,Qf6', 'Qd5+,Kh7,Qxa8', 'https://lichess.org/training/3FuVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Fwqk', 'Rapid', 'TACTIMANIAUPDATED', 2050, 'BenATCq', 2029, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bd3,O-O,O-O,Bg4,h3,Bh5,g4,Bg6,Bxg6,hxg6,c3,Nd7,Be3,f5,Qd2,fxg4,hxg4,Nf6,g5,Nh5,Ne5,Qc7,f4,Rad8,Rad1,Qc8,Qg2,Qf5,Qg4,Qc2,Rd2,Qe4,Qf3,Qf5,Kg2,Rfe8,Re2,Bb8,Rfe1,f6,Ng4,Qb5,gxf6,gxf6,f5,Qxf5', 'Nh6+,Kh7,Nxf5', 'https://lichess.org/training/3Fwqk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3fYZh', 'Blitz', 'Joker999', 1761, 'E-VOID', 1861, 'e4,c5,Nf3,d6,h3,Nf6,d3,e6,Bd2,Be7,c4,O-O,Nc3,a6,a4,b6,Be2,Bb7,O-O,Nbd7,Nh2,d5,exd5,exd5,f4,dxc4,dxc4,Qc7,Bf3,Rad8,Bxb7,Qxb7,Qf3,Qb8,Rae1,Bd6,Nd5,Rfe8,Rxe8+,Rxe8,Ng4,Ne4,Bc3,f5,Ne5,Nxe5,fxe5,Bxe5,Qxf5,Bxc3,Qf7+,Kh8,bxc3,Ng3,Nc7,Rg8,Rf3,Ne2+,Kf2,Nc1,Ne6,Qe5', 'Qxg8+,Kxg8,Rf8#', 'https://lichess.org/training/3fYZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3G2Ue', 'Rapid', 'joaocsp', 1763, 'Romanchev_Denis', 1774, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nc6,Nf3,Bg4,Bb5,e6,h3,Bxf3,Bxc6+,bxc6,Qxf3,Nf6,Bg5,Be7,O-O,O-O,Bxf6,Bxf6,Qd1,Qb6,b3,Bxd4', 'Na4,Bxf2+,Rxf2', 'https://lichess.org/training/3G2Ue');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3g9bz', 'Classical', 'sasha1972', 1761, 'Xont', 1635, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d4,exd4,O-O,Nxe4,Re1,d5,Nfd2,Be6,Nxe4,dxe4,Rxe4,Bd6,Qxd4,f5,Rxe6+,Kf7,Bxc6', 'Bxh2+,Kxh2,Qxd4', 'https://lichess.org/training/3g9bz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3GC2X', 'Rapid', 'olecram96', 1805, 'konikszachowy', 1812, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,Bg4,h3,Bh5,Be2,e6,Ne5,Bxe2,Nxe2,Nxe5,dxe5,Qc7,Bf4,Bc5,O-O,Ne7,Qd3,O-O,Nd4,Ng6,Nb5,Qb6,Be3,Bxe3,fxe3,Nxe5,Qd4,Qxb5,Qxe5,Qe2,Rf2,Qa6,a3,Rac8,Raf1,Rc4', 'Rxf7,Rxf7,Qb8+,Rc8,Qxc8+,Rf8,Rxf8#', 'https://lichess.org/training/3GC2X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3gcYX', 'Blitz', 'FM LuisFlaquer', 2409, 'resania', 2332, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nh3,Nf6,Nf4,Bh7,Bc4,Nd5,c3,e6,Bd3,Bxd3,Qxd3,Nxf4,Bxf4,Bd6,Bxd6,Qxd6,O-O-O,Qf4+,Kb1,Nd7,Ne4,O-O-O,g3,Qc7,f4,Rhe8,Qf3,c5,d5,e5,f5,Nb6,d6,Qc6,f6,g6,Qe3,Nc4,Qxc5,Qxc5,Nxc5,Rxd6,Ne4,Rxd1+,Rxd1,Rd8,Rxd8+,Kxd8,b3,Ne3,Nd6,Nd5,Nxf7+,Ke8,Nxe5,Nxf6,Nxg6,Ne4,g4,Nxc3+,Kc2,Nd5,Ne5,Ne3+,Kd3,Ng2,h5,Ke7,Ke4,Ke6,Ng6,Ne1,Nf4+,Kf6,Nd3', 'Nxd3,Kxd3,Kg5,Ke3,Kxg4', 'https://lichess.org/training/3gcYX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3GdJq', 'Blitz', 'NM TruenoChess', 2205, 'trampeiro', 2114, 'e4,c6,d4,d5,e5,Bf5,g4,Bd7,Bd3,e6,h4,c5,c3,Nc6,Ne2,Qb6,dxc5,Bxc5,O-O,Nxe5,g5,Nf3+,Kh1,Nxh4,b4,Bd6,Be3,Qc7,Nd2,Ne7,Nb3,Nhf5,Nbd4,Nxd4,Nxd4,a6,Qd2,Nc6,f4,g6,Nxc6,Bxc6,Bd4,Rg8,Rf2,O-O-O,a4,Bd7,b5,a5,b6,Qb8,Rff1,Bc6,Kg2,Rd7,Kh3,e5,fxe5,Bxe5,Be2,Re7,Bg4+,Bd7,Bxd7+,Rxd7,Rae1,Re8,Qe3,Rde7,Bxe5,Rxe5,Qc5+,Kd8,Rxf7,Qc8+,Qxc8+,Kxc8,Rxe5,Rxe5,Rc7+,Kb8,Kg4,Re4+,Kf3,Re5,Rxh7,Kc8,Rc7+,Kd8,Rxb7,Rxg5,Ra7,Kc8,Rxa5,Kb7,Rb5,Rf5+,Ke3,Rh5,a5', 'd4+,cxd4,Rxb5', 'https://lichess.org/training/3GdJq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3gecw', 'Rapid', 'bodhisvaha', 1664, 'miamiking', 1708, 'f4,d6,Nf3,Bg4,e3,e5,fxe5,dxe5,h3,Bxf3,Qxf3,Nc6,Bc4', 'Qh4+,Qf2,Qxc4', 'https://lichess.org/training/3gecw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3GeRY', 'Blitz', 'IM Harut-1998', 2672, 'borisov_maxim', 2718, 'd4,d5,Nf3,Nf6,c4,dxc4,e3,e6,Bxc4,a6,O-O,c5,dxc5,Qxd1,Rxd1,Bxc5,Be2,b5,Ne5,Bb7,Nd2,Nbd7,Nb3,Bb6,Nxd7,Nxd7,a4,bxa4,Rxa4,Bd5,Nd4,Nc5,Ra3,a5,Bd2,Ke7,Rda1,a4,Bb4,Kf6,Bb5,Nb3,Nxb3,axb3,Bc3+,Kg6,Bd3+,f5,Ra6,Rxa6,Rxa6,Ra8,Rxa8,Bxa8,Bc4,Bd5,Bxd5,exd5,Kf1,Kf7,Ke2,g6,Kd3,Ke6,Bd4,Ba5,f3,Bb4,h3,h5,Bc3,Bc5,Bd2,Bb6,Bb4,Ke5,Bf8,Ke6,Bg7,Kd6,Bd4,Ba5,Bc3,Bb6,Bb4+,Ke6,Kc3,Bxe3,Kxb3,Ke5,Kc3,Kf4,Kd3,Bb6,Bd6+,Kg5,b4,Kf6,Bc5,Bc7,b5,Ke6,b6,Bb8,b7,Kd7,Kd4,Kc6,h4,Bg3,Be7,Kxb7', 'Kxd5,Kc7,Ke6', 'https://lichess.org/training/3GeRY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3GiXy', 'Classical', 'nf81', 1916, 'AnnapurnaI', 1884, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,c5,g3,b6,Bg2,Bb7,e5,Nfd7,O-O,Nc6,Re1,Qc7,Qe2,Be7,Nf1,d4,h4,h6,Bf4,g5,hxg5,hxg5,Nxg5,Bxg5,Bxg5,Ncxe5,Bf6,Nxf6,Qxe5,Qxe5,Rxe5,Bxg2,Kxg2,Kd7,Nh2', 'Rxh2+,Kxh2,Ng4+,Kg2,Nxe5', 'https://lichess.org/training/3GiXy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3GJHs', 'Blitz', 'BIHOVO', 2061, 'very-hard-2020', 2040, 'e4,c5,Bc4,e6,Nf3,Nc6,a3,d5,exd5,exd5,Bb5,Qb6,Bxc6+,Qxc6,O-O,Nf6,Re1+,Be7,d3,h6,Ne5,Qc7,c3,Be6,h3,O-O-O,d4,Bd6,Ng6,Rhe8,Nh4,Ne4,Nf3,g5,Nfd2,f5,Nxe4,dxe4,d5,Bxd5,Qa4,Bh2+,Kf1,Qa5,Qxa5', 'Bc4+,Re2,Rd1#', 'https://lichess.org/training/3GJHs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3gjNL', 'Rapid', 'permart', 1872, 'norhther', 1779, 'Nf3,d5,g3,Nf6,Bg2,e6,c4,Bd6,cxd5,Nxd5,O-O,Bd7,Qb3,b6,Ne1,Bc6,Nc3,Nxc3,Bxc6+,Nxc6,Qxc3,Qd7,Qxg7,O-O-O,b3', 'Be5,Qh6,Bxa1', 'https://lichess.org/training/3gjNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3gKj4', 'Rapid', 'ThomasG02', 1825, 'AlecsSV', 1817, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bc5,Nxc6,bxc6,Be2,d5,exd5,exd5,O-O,Nf6,Re1,O-O,Bf4,Bf5,Bd3,Bxd3,Qxd3,Ng4,Bg3,Qd7,Ne4,Be7,Rad1,Qb7,Nc3,Rfe8,b3,Qb4,Nb1,Bf6,Rxe8+,Rxe8,c3,Qa5,a4,d4,h3,Ne5,Bxe5,Qxe5,cxd4,Qd5,Qc4,Qe4,Qd3', 'Qxd3,Rxd3,Re1+,Kh2,Rxb1', 'https://lichess.org/training/3gKj4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3gLyT', 'Rapid', 'on_Wave', 1716, 'Karkamik', 1701, 'e4,c5,Nc3,Nc6,Nf3,e6,g3,d5,exd5,exd5,d4,Bg4,Bg2,Nxd4,Qd3,Bf5,Qe3+,Qe7,Qxe7+,Bxe7,Nxd4,cxd4,Nxd5,Bxc2,Nc7+,Kd7,Nxa8,Nf6,Bxb7,Bb4+,Bd2', 'Re8+,Kf1,Bxd2', 'https://lichess.org/training/3gLyT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3GNrU', 'Rapid', 'igorsm', 1807, 'jiggies', 1806, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qa4,Nf6,Nc3,Bd6,Bg5,O-O,Nb5,Bb8,f3,Re8,O-O-O,a6,Nd6,b5,Qa3,Bxd6,Rxd6,b4,Qa4,Re6,Rd5,Bb7,Rxc5,Bc6,Qa5,Qe7,Qxb4,h6,Be3,Nd5,exd5,Rxe3,dxc6', 'Re1+,Kd2,Qe3#', 'https://lichess.org/training/3GNrU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3GSAP', 'Rapid', 'tt19770210', 1814, 'donnaanygambits', 1791, 'e3,g6,c4,Bg7,Nf3,d6,Be2,Nf6,d4,Bf5,Nc3,Nbd7,Bd3,Bxd3,Qxd3,O-O,Ne4,Nxe4,Qxe4,c6,O-O,Rc8,b3,e6,Ba3,c5,Rad1,Nf6,Qxb7,d5,dxc5,Rb8,Qc6,Ne4,cxd5,Nc3,Rd3,Nxd5,Qd6,Qxd6,cxd6,Rfd8,e4,Nb4,Bxb4,Rxb4,Rfd1,Rd7,e5,Rb5,a4,Rc5,b4,Rc2,g3,Rb2,Rd4,Ra2,a5,h6,Kf1,g5,Rc4,g4,Nh4,Bxe5,Rc7,Rxc7,dxc7,Bxc7,Rd7,Ra1+,Ke2,Rc1,Ng2,Rc4,Ne3,Rc6,b5,Rc5,Kd3,Kf8,Nc4,Ke8,Rd4,Rxb5,Rxg4,Bxa5', 'Nd6+,Kf8,Nxb5', 'https://lichess.org/training/3GSAP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3gSeN', 'Classical', 'stalkinplatypus', 1765, 'forsubs2015', 1749, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,Nf3,Nc6,d4,Bg4,e3,a6,Bc4,e6,h3,Bh5,Be2,Nf6,Qb3,Bb4,Bd2,a5,a3,Bxc3,Qxb7,Bxd2+,Nxd2,Ne7,Bxh5,Rb8,Qf3,Nxh5,Qxh5,Nf5,g4', 'g6,gxf5,gxh5', 'https://lichess.org/training/3gSeN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3gsiv', 'Rapid', 'elev8', 1991, 'Lita90', 1986, 'd4,d6,Nf3,Nd7,e3,e5,Bd3,Ngf6,Nbd2,c6,b3,Qa5,O-O,Be7,Bb2,O-O,c4,e4,Nxe4,Nxe4,Bxe4,Nf6,Bc2,Qh5,Qd3,d5,cxd5,cxd5,Rfe1,Bd6,e4,dxe4,Rxe4,Nxe4,Qxe4,f5', 'Qd5+,Qf7,Qxd6', 'https://lichess.org/training/3gsiv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3gsw3', 'Rapid', 'Kobracan', 2095, 'Tryfirst', 2059, 'd4,d5,Bf4,Nf6,e3,e6,Nc3,a6,Bd3,Bd6,Nf3,Nbd7,Ne5,O-O,O-O,h6,Qf3,Qe7,Rfe1,c5,Be2,Nb6,Qg3,Bxe5,dxe5,Ne8,Bxh6,Bd7,Bg5,f6,exf6,Nxf6,Bxf6,Qxf6,Rad1,Bc6,Bf3,Rad8,e4,d4,e5,Qf4,Bxc6,Qxg3,hxg3,bxc6,Ne4,Nc4,b3,Na3,Rd2,Rd5,Nd6,Nb5,Nc4,Nc3,a4,Rb8,f4,Rb4,g4,Nxa4,Na5,Nc3,Nxc6,Rb7,f5,Kf7,Kf2,Rc7,Na5,g5,Nc4,Nb5,Rh1,exf5,gxf5,Kg8,Rh5,Rg7,f6,Rg6,Kg3,Nc3,Kf3,Kf7,Rf2,Ke6,Rh7,Rxe5,Nxe5,Kxe5,Rf7', 'g4+,Kg3,Ne4+', 'https://lichess.org/training/3gsw3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3gti0', 'Rapid', 'skreyper85', 1845, 'boil', 1778, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qxe7+,Ngxe7,c4,Nd4,Bd3,d6,Be3,Nec6,a3,Be6,O-O,b5,cxb5,axb5,Nc3,Bc4,Bxc4,bxc4,Rac1,O-O,Nd5,Ne2+,Kh1,Nxc1,Rxc1,Rab8,Rxc4,Nd4,Bxd4,exd4,Rxd4,Rxb2,h3,Ra8,Ne7+,Kf8,Nf5,g6,Nxd6,Rxa3,e5,Rxf2,Ne4,Rf1+,Kh2,Re3,Nf6,Rxe5', 'Nd7+,Kg7,Nxe5', 'https://lichess.org/training/3gti0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3GTPP', 'Rapid', 'AmitShrivastav', 1928, 'Pallium_cineris', 2141, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,O-O,gxf3,Qxf3,Qf6,c3,Bh6,d4,d6,Na3,Ne7,Nb5,Na6,Bd2,O-O,Rae1,Ng6,Kh1,Qg5,Na3,Bg4,Qf2,Rae8,g3,Qh5,Bxf4,Bh3,Rg1,Bxf4,gxf4,Kh8,Rg5,Qh6,Reg1,Rxe4,Qf3,Rxf4,Qxb7,Nb8,Qxc7,Bf5,Bd5,Be6,Bxe6,fxe6,Qxd6,Rf1,Nc4,Rxg1+,Rxg1,Qf4,Qxf4,Rxf4,Re1,Rf6,Nd6,Nh4,Ne4,Rg6,Ng3,Kg7,Rf1,Nd7,Nh5+,Kh6,Ng3,Nf6,Re1,Nd5,Re4,Nf5,Ne2,Nde3,Nf4,Rf6,Nxe6,Kg6,Nf4+,Kf7,d5,Ra6,a3,Rb6,b4,Ra6,d6,Rxa3,h3,Ra1+,Kh2,Rd1,Ne6,Rxd6,Ng5+,Kg6,Nf3,Rd3', 'Ne5+,Kf6,Nxd3', 'https://lichess.org/training/3GTPP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3GvBk', 'Rapid', 'P4ch3', 1712, 'Ismael15', 1733, 'e4,d5,exd5,e6,dxe6,Bxe6,d4,Qe7,Be3,Nc6,Nf3,O-O-O,c4,Bg4,d5,Nf6,Be2,Qb4+,Nc3,Qxb2,Qb3,Qxa1+,Bd1,Ne5,O-O,Nd3,Ne5,Nxe5', 'Bxg4+,Nfxg4,Rxa1', 'https://lichess.org/training/3GvBk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3gZOn', 'Blitz', 'AugustoSesc', 1664, 'ayushmanbiyala22', 1651, 'e4,e5,Nf3,d6,Bc4,Bg4,d3,h6,Nc3,c6,O-O,Nf6,a3,Be7,Be3,O-O,Qc1,Bxf3,gxf3,a5,Bxh6,gxh6,Qxh6,Nh7,Kh1,Kh8,Rg1,Bg5,Qh5,b5,Bxf7,Qf6,Bg6,Qxf3+,Rg2,Qxh5,Bxh5,Bd2,Rag1,Bxc3,bxc3,Ra7,Rg3,Na6,Bg6,Rxf2,Rh3,Rxc2,Rf1,Rg7', 'Rf8+,Rg8,Rxh7#', 'https://lichess.org/training/3gZOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3h2Dv', 'Rapid', 'NAPOIV', 1697, 'ahmad1993104', 1712, 'e4,g6,f4,Bg7,Nf3,e5,Bc4,Nh6,O-O,exf4,d4,g5,c3,d6,h4,Bf6,hxg5,Bxg5,Nxg5,Qxg5,Bxf4,Qg6,Bxh6,Qxh6,Bxf7+,Kd8,Qh5,Qxh5,Bxh5,Bd7,Nd2,c5,Rf7,Be8,Rf5,cxd4,cxd4,Bxh5,Rxh5,Nd7,Rc1,h6,Nc4,Ke7,b3,Rac8,Rf1,Nf6,Nxd6', 'Nxh5,Nxc8+,Rxc8', 'https://lichess.org/training/3h2Dv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3H3sv', 'Classical', 'GodofGambit', 1665, 'Aleatorius', 1879, 'd4,Nf6,e4,Nxe4,Bd3,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Nf3,Bg4,h3,Bh5,O-O,Be7,Re1,Nc6,g4,Bg6,Bb5,O-O,Bxc6,bxc6,Ne5,c5', 'Nc6,Qd7,Nxe7+', 'https://lichess.org/training/3H3sv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3h57x', 'Rapid', 'PO3A', 1743, 'AnoonaSithole12', 1700, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e6,Be3,Be7,Qd2,O-O,O-O-O,Nbd7,Kb1,Qc7,g4,h6,h4,Nh7,g5,h5,g6,fxg6,Be2,e5,Ne6,Qc6,Nxf8,Ndxf8,f4,exf4,Bxf4,Be6,Bxd6,Rd8,e5,g5,Bxh5,gxh4,Rdg1,Bxd6,exd6,Rxd6,Qh6', 'Bxa2+,Nxa2,Rxh6', 'https://lichess.org/training/3h57x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3H6vB', 'Classical', 'VKHK', 1669, 'dusandjud', 1666, 'b3,e5,Bb2,Nc6,g3,d5,Bg2,e4,d3,Nf6,dxe4,Nxe4,Nc3,Bb4,Bxe4,dxe4,a3,Qxd1+,Rxd1,Bxc3+,Bxc3,O-O,Rd5,Be6,Rg5,f6,Rc5,Rad8,Ba5,Nxa5,Rxa5,a6,e3,Rd6,Ne2,Rfd8,Nd4,b6,Rxa6,c5,Nxe6', 'Rd1+,Ke2,R8d2#', 'https://lichess.org/training/3H6vB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3h7dT', 'Rapid', 'Zubatka', 2023, 'stanislav1941', 2141, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,a3,Bc5,e3,Ngxe5,Be2,O-O,b4,Be7,Bb2,Bf6,Nxe5,Nxe5,Bd4,d6,Nc3,Be6,Bxe5,Bxe5,Rc1,g6,O-O,a5,b5,b6,a4,Qd7,Ne4,f5,Ng5,Kg7,Nxe6+,Qxe6,Bf3,Rad8,Bd5,Qe7,Qd3,f4,exf4,Rxf4,Rce1,Rdf8,g3,Rd4', 'Qxd4,Bxd4,Rxe7+', 'https://lichess.org/training/3h7dT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3HEtb', 'Classical', 'WildEyeQ', 1917, 'Bogdan26', 1703, 'e4,e6,d4,d5,Nd2,c5,c3,cxd4,cxd4,Nc6,exd5,Qxd5,Ngf3,Nxd4,Qa4+,Bd7', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/3HEtb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3hiWh', 'Blitz', 'EK22', 2348, 'FM Kabeljaukrieger', 2448, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,O-O,Nc6,d5,Ne7,b4,Nh5,Re1,h6,c5,f5,a4,f4,Nd2,Nf6,Ba3,g5,Nc4,Ng6,b5,Ne8,b6,axb6,cxb6,Nh4,Nb5,f3,Bf1,fxg2,Bxg2,Qf6,Qe2,g4,bxc7,Nf3+,Kh1,Qh4,Bxf3,gxf3,Qe3,Bh3,Rg1,Bg2+,Rxg2,fxg2+,Kxg2,Rf4,f3,Nxc7,Nxc7,Raf8,Rf1,R8f6,Ne6,Rg6+,Kh1', 'Qxh2+,Kxh2,Rh4#', 'https://lichess.org/training/3hiWh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3HKj2', 'Classical', 'RabbiGambit', 1846, 'jona3', 1687, 'e4,e5,f4,exf4,Nf3,d6,Bc4,f6,d4,g5,Nxg5,fxg5,Qh5+,Kd7,Bxg8,Rxg8,Qxh7+,Rg7,Qf5+,Ke8,Qb5+,c6,Qe2,b6,Bd2,Ba6,Qh5+,Kd7,Nc3,Kc7,O-O-O,Nd7,h4,Nf6,Qf3,gxh4,Bxf4,Nd7,Qh5,Be7,e5,dxe5', 'Bxe5+,Nxe5,Qxe5+', 'https://lichess.org/training/3HKj2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3hKNK', 'Bullet', 'exiit', 1700, 'JimmyBuzzard', 1715, 'e3,d5,d4,c5,Nf3,Nc6,Be2,Nf6,O-O,Bg4,b3,e6,Bb2,Be7,Nbd2,O-O,c4,cxd4,exd4,b6,h3,Bh5,Rc1,Bb4,a3,Be7,Ne5,Bxe2,Qxe2,Nxe5,dxe5,Nd7,cxd5,exd5,Rfd1,Nc5,b4,Na4,Ba1,Bg5,g3,Qd7,f4,Be7,Nf3,Qxh3,Qf2,Rfd8,Rd3,Rac8,Rcd1,Rc7,Rxd5,Rdc8,e6,fxe6,R5d2,Nc3,Re1,Nb5,Ne5,Bf6,Qf3,Rc1,Red1,Rxd1+,Rxd1,Bxe5,Bxe5,Rc2,Rd8+,Kf7,Rd7+,Kg6,Rxg7+,Kh6,Rg4', 'Qh2+,Kf1,Rc1+,Qd1,Rxd1#', 'https://lichess.org/training/3hKNK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3HNKg', 'Rapid', 'adam_adam_1', 1935, 'AlphaZERO_GM', 2036, 'Nf3,Nf6,e4,e5,Nc3,d6,d4,Nbd7,Bg5,g6,dxe5,dxe5,Nd5,Bg7,g4,O-O,h3,c6,Nxf6+,Nxf6,Qxd8,Rxd8,Bd3,Re8,c3,a5,Kf1,h6,Be3,h5,Kg2,hxg4,hxg4,Bxg4,Bc2,Rad8,a3,b5,a4,Bd7,axb5,Ra8,b6,Ng4,Bc5,f5,b7,Rab8,Bb3+,Be6,Bxe6+,Rxe6,Rhd1,Nf6,exf5,gxf5,Rxa5,Rxb7,Ra8+,Kf7', 'Ng5+,Kg6,Nxe6', 'https://lichess.org/training/3HNKg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3HOuK', 'Blitz', 'fenixfrank02', 1537, 'Ahmed_elbayomi', 1504, 'd4,Nf6,Nf3,d6,g3,g6,Bg2,Bg7,O-O,O-O,Nc3,Nbd7,b3,c5,Bb2,cxd4,Nxd4,Ng4,Nf3,Nge5,Nxe5,Nxe5,Qd2,Bf5,Rab1,Rc8,Bxb7,Bh3,Bxc8,Bxf1,Kxf1,Qxc8,Ne4,Qf5,Bxe5,Bxe5,Qe3,Rc8,c4,d5,cxd5,Rc2,a4,h5,b4,h4,Nc5,Rxc5,bxc5,Qxb1+,Kg2,h3+,Kxh3,Qf1+,Kg4,f5+,Kg5,Qh3,Qxe5', 'Qg4+,Kh6,Qh5#', 'https://lichess.org/training/3HOuK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3hprV', 'Rapid', 'Pennybrig', 1960, 'AnagramAxle', 1901, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,a6,O-O,Bc5,Nf3,Nge7,Bg5,h6,Bh4,Qb6,b3,O-O,Nbd2,Ng6,Bd3,Nxh4,Nxh4,Ne5,Ndf3,Nxd3,cxd3,d5,d4,Be7,e5,Bd7,g3,f6,Ng6,Rfe8,Nxe7+,Rxe7,exf6,gxf6,Qd2,Rh7,Qf4,Rf8,Nh4,e5,dxe5,fxe5,Qxe5,Bh3,Qxd5+,Kh8,Rfe1,Qxf2+,Kh1,Rhf7,Qe5+,Kg8,Qe3,Qxe3,Rxe3', 'Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/3hprV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Hq7h', 'Rapid', 'Aks1969', 1847, 'GingerBread42', 1906, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Nc3,Bg7,Bd2,d6,Bc4,Nf6,O-O,Nd7,Qf3,Ne5,Qe2,Nxc4,Qxc4,Bd7,Rab1,O-O,Ne2,Rb8,b3,c5,Nf4,Qc8,Nd5,Re8,Bc3', 'Bb5,Qxb5,Rxb5', 'https://lichess.org/training/3Hq7h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3hQVU', 'Blitz', 'presidonaycs', 1989, 'Fiftyn24', 2058, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bf1,Nd4,c3,Nxd5,Ne4,Qh4,d3,f5,Ng3,Bc5,cxd4,Qxd4,Qf3,O-O,Be2,e4,dxe4,fxe4,Qxe4,Qxf2+,Kd1,Rd8,Bd2,Bb7,Qe6+,Kh8,Rf1,Ne3+,Kc1,Nxf1,Bxf1,Rxd2,Nxd2,Be3,Qd7,Rf8,a4,Bc8,Qd3,Be6,axb5,c6,bxc6,Rc8,c7,Rxc7+,Kb1,h6,Qd8+,Kh7,Qxc7,Qe1+,Qc1,Qf2,Qc2+,g6,Nde4', 'Qe1+,Qd1,Qxd1#', 'https://lichess.org/training/3hQVU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3HSQF', 'Rapid', 'Samegi2', 1687, 'niko78', 1741, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d4,exd4,Nxd4,Nxd4,Qxd4,a6,Bc4,Nc6,Qd5,Qf6,Bg5,Qg6,Bf4,Nb4,Qe5+,Be7,Na3,d6,Qa5,Qxe4+,Be3,Nxc2+,Nxc2,Qxc2,Qxc7,d5', 'Bb5+,axb5,Qxc2', 'https://lichess.org/training/3HSQF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3htaN', 'Rapid', 'batdk59', 1619, 'JT1979', 1688, 'e4,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,e5,Nf3,Bg4,Be2,f6,h3,Bh5,g4,Bg6,Bd3,Bc5,Ke2,Ne7,Be3,Bxe3,fxe3,O-O,Nc3,c6,Bc4+,Kh8,Rhd1,b5,Bb3,b4,Na4,Na6,Rd6,Rad8,Re6,Rfe8,Bc4,Nc7,Nc5,Nxe6,Nxe6,Rd6,Nc7,Red8,g5,Bxe4,gxf6,gxf6,c3,Bxf3+,Kxf3,Rd2,b3,bxc3,Ne6,R8d6,Rc1,c2,Nc5,f5,e4,fxe4+,Nxe4,R6d3+,Bxd3,Rxd3+,Ke2,Rxh3,Rxc2,Rh2+,Nf2,Kg7,Rc5,Kf6,Ke3,Nf5+,Kf3,Nd4+,Ke3,h5,Ra5,Nf5+,Kf3,Nd4+', 'Kg3,Rxf2,Kxf2', 'https://lichess.org/training/3htaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3hUOQ', 'Rapid', 'zoomsp', 1685, 'artem9898', 1734, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,e5,Nd5,Nc3,e6,Nf3,Bb4,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,O-O,g3,b6,Bg2,Bb7,O-O,Nc6,Ne1,Rb8,Nd3,Na5,Bxb7,Rxb7,Rb1,c5,dxc5', 'Rd7,Qe2,Rxd3', 'https://lichess.org/training/3hUOQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3HUy3', 'Rapid', 'lukasaric', 1658, 'Paperghost', 1659, 'e4,e5,f4,exf4,Nf3,d5,exd5,Nf6,c4,c6,Nc3,cxd5,cxd5,Bd6,Qe2+,Be7,d4,O-O,Bxf4,Re8,O-O-O,Nxd5,Nxd5,Qxd5,Kb1,Be6,b3,Qf5+,Qc2,Qxf4,Bd3,Nc6,Rhf1,Qd6,Ne5,Nxe5,dxe5,Qxe5,Bxh7+,Kf8,Rde1,Qd6,Rd1,Qe5,Rde1,Qd5,Be4,Qd6,Bf3,Qxh2', 'Rh1,Bd6,Rxh2', 'https://lichess.org/training/3HUy3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3HWnF', 'Classical', 'Cicuta', 1796, 'SCVReady', 1757, 'e4,c5,Nf3,d6,Bc4,e6,d3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Re1+,Be7,Bg5,O-O,Ne5,Nxe5,Rxe5,h6,Bh4,Bd6,Rxd5,Qc7,Bxf6,Bxh2+,Kh1,gxf6,Qh5,Bf4,Rf5,Bg5,Nc3,Qd7,Rf3,Qe6,Ne4,Kg7,Ng3,Kh7,Ne4,Qc6,Nxg5+,fxg5,Re1,Qg6,Qg4,Rae8,Rfe3,Rxe3,Rxe3,h5,Qd7,Qf6,Qxb7,Qxf2,Rf3,Qe1+,Kh2,Qh4+,Kg1,Qe1+,Rf1,Qe3+,Kh1,Kg7,Qxa7,Qe2,Kg1,Qxc2,a4,Qxb2,Qxc5,Ra8,Qxg5+,Kf8,Qh6+,Ke7,Re1+,Kd7,Qxh5,Qd4+,Kh1', 'Rh8,Qxh8,Qxh8+', 'https://lichess.org/training/3HWnF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3hwXi', 'Blitz', 'carexpilosa', 1592, 'skype2018', 1636, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,Nc3,Nc6,Qd1,Bd7,Bc4,Be7,a3,O-O,O-O,a6,Re1,Be6,Nd5,b5,Ba2,Rb8,Ng5,Nxd5,Nxe6,fxe6,exd5,exd5,Bxd5+,Kh8,Bxc6,Bh4,g3,Qf6,Be3,Qg6,Bg2,Bf6,Qd3,Qg4,Qe4,Qd7,Rad1,Bxb2,Rd3,Rbe8,Qc6,Qd8,Bd2,Rxe1+,Bxe1,Qf6,Rf3,Qe7,Rxf8+,Qxf8,Qf3,Qe8,Bc3,Bxa3,Qg4,Qf8,Qf3,Qe8,Bf1,Bc5,Bg2,b4,Bb2,a5,Qc6', 'Qe1+,Bf1,Qxf2+,Kh1,Qxf1#', 'https://lichess.org/training/3hwXi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3HXmQ', 'Classical', 'Zerkoff', 2032, 'Sentinel14', 1881, 'd4,Nf6,Nf3,e6,c4,b6,Nc3,Bb4,Bg5,h6,Bh4,Bb7,a3,Be7,e3,O-O,Be2,Ne4,Bxe7,Qxe7,O-O,c5,d5,Nxc3,bxc3,exd5,cxd5,d6,a4,Nd7,a5,Nf6,c4,Rfb8,Qc2,b5,a6,Bc8,cxb5,Nxd5,Rfd1,Nb6,Bd3,Be6,Be4,d5,Bf5,Bxf5,Qxf5,Rd8,Ne5,Qe6,Qf4,Re8,Nc6,Nd7,Rac1,c4,Qd4,Nb6,Rc2,Rec8,Rcd2,Rc7,Nb4', 'c3,Rc2,Rc4,Rxc3,Rxd4', 'https://lichess.org/training/3HXmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3hyJH', 'Rapid', 'QlirimMurati', 1660, 'sporttrops', 1762, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,dxe5,Nf5,Qxd8+,Kxd8,Bg5+,Ke8,Nc3,h6,Bf4,g5,Bg3,Be6,Rad1,Rd8,Rxd8+,Kxd8,Rd1+,Ke7,Nd4,Nxd4,Rxd4,Bg7,h4,b5,Ne4,Bxa2,hxg5,h5,Bh4,Ke6,g6,Bxe5,Nc5+,Kf5,Re4,fxg6,f3,Bd5', 'g4+,hxg4,fxg4#', 'https://lichess.org/training/3hyJH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3HZbh', 'Rapid', 'DerDrp', 1835, 'FineDay', 1788, 'Nf3,d5,c4,d4,e3,c5,exd4,cxd4,d3,Nc6,Bf4,Bg4,h3,Bxf3,Qxf3,e5,Bh2,Bd6,Be2,Qg5,O-O,f5,Nd2,Nf6,Rfd1,O-O,Qg3,Qxg3,Bxg3,Rad8,Bf3,e4,dxe4,fxe4,Bxd6,Rxd6,Nxe4,Nxe4,Bxe4,b6,Rd3,Ne5,Bd5+', 'Rxd5,cxd5,Nxd3', 'https://lichess.org/training/3HZbh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3i2cu', 'Rapid', 'Henny_Penny', 1976, 'SamDooley', 1973, 'd4,Nf6,Bg5,Ne4,Bh4,c5,d5,Qa5+,c3,Nd6,e3,g6,Nd2,Bg7,Ngf3,Nf5,Bg3,Nxg3,hxg3,d6,Bd3,Nd7,Nc4,Qc7,Qc2,b5,Ncd2,c4,Bxg6,hxg6,Rxh8+,Bxh8,O-O-O,Ne5,Rh1,Nd3+,Kb1,Bg7,Ne4,Bf5,Neg5,Nxf2,e4,Nxh1,exf5,Nxg3,fxg6,Qd7', 'gxf7+,Kd8,Ne6+', 'https://lichess.org/training/3i2cu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3I2Oz', 'Classical', 'Georgeflow25', 1821, 'Sergey_75', 1999, 'Nf3,e6,g3,b6,Bg2,Bb7,O-O,Ne7,d3,Ng6,Nbd2,Be7,e4,O-O,Re1,c5,e5,Nc6,Nc4,b5,Nd6,Bxd6,exd6,f5,Bg5,Qe8,c4,bxc4,dxc4,h6,Be3,f4,Bxc5,fxg3,fxg3,Qf7,Rc1,Qf5,Ba3,Nce5,Nxe5', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/3I2Oz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3I41K', 'Classical', 'chess960lab', 2356, 'G_L_O_B_A_L', 2055, 'd4,Nf6,Nf3,c5,c3,cxd4,cxd4,d5,Nc3,Nc6,Bf4,a6,e3,Bg4,Be2,e6,Qb3,Qd7,Ne5,Nxe5,dxe5,Bxe2,exf6,Bc4,fxg7,Bxg7,Qa3,Bf8,Qa5,Qc6,Qc7,Qxc7,Bxc7,Rc8,Be5,Rg8,g3,Bb4,a3,Bxc3+,Bxc3,b5,f4,f5,Kf2,Ke7,Rhd1,h5,Rac1,Rc6,Be5,Rgc8,Rd2,Bb3,Rxc6,Rxc6,Bc3,Bc4,h3,Rc8,Rd1,Rg8,Rc1,Kd7,Be5,Rc8,Rg1,Bd3,Bc3,Rg8,Rd1,Be4,Be5,Rc8,Bc3,Rg8,Ra1,Rc8,g4,hxg4,hxg4,fxg4,Kg3,Bf3,a4,Kc6,Bd4,Rb8,Rc1+,Kd7,Ra1,Kc6,a5,Kc7', 'Be5+,Kb7,Bxb8', 'https://lichess.org/training/3I41K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3I6la', 'Rapid', 'sony123', 1777, 'ZheniaFrolov', 1764, 'e4,e5,c3,Nc6,d4,Nf6,d5,Ne7,Bd3,d6,Nf3,Bg4,O-O,Ng6,Be3,Be7,Nbd2,O-O,h3,Bxh3,gxh3,Qd7,Kg2,c6,c4,Nh5,Rh1,Nhf4+,Bxf4,Nxf4+,Kg3,Nxd3,dxc6,bxc6,Nb3,Nf4,h4,Qe6,Ng5,Qg6,Kf3,Bxg5,hxg5,Qxg5,Qxd6,Rad8,Rag1,Rxd6,Rxg5,Rd3+,Kg4,h6,Rxe5,f6,Rc5,Ne2,Rxc6,Nd4,Nxd4,Rxd4,f3,Re8,Rh2,Re5,b3,Rg5+,Kf4,Rd1,Rc8+,Kh7,Rc7,Rf1,Rxa7,Re5,b4,Kg6,c5,h5,c6,Kh6,b5,Re1,Rg2,g5+,Kg3,h4+,Kf2,Rh1,b6,h3,Rg3,h2,c7', 'Rf1+,Kxf1,h1=Q+', 'https://lichess.org/training/3I6la');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3i8CZ', 'Rapid', 'Tuumala', 1714, 'zilmoris', 1823, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Nc3,Bg4,Bb5,e6,Be3,Bd6,Qd2,Nf6,h3,Bxf3,gxf3,Qb6,O-O-O,O-O-O,Qe2,Kb8,Na4,Qc7,Nc5,Bxc5,dxc5,e5,Qd3,d4,Bg5,Nd5,Bxd8,Rxd8,Bxc6,Qxc6,Qa3,Nf4,h4,f5,Rhe1,e4,fxe4,fxe4,Qb4,d3,cxd3,Nxd3+,Kb1', 'Nxb4,Rxd8+,Kc7', 'https://lichess.org/training/3i8CZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3i9Qd', 'Blitz', 'Andrey_Sidleckiy2018', 1870, 'gapos', 1841, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Nc6,Bc4,Bb4,Ne2,Nge7,O-O,O-O,a3,Ba5,b4,Bb6,Bb2,Ne5,Bb3,N7g6,Kh1,Ng4,Nd4,Qh4,h3,Nxf2+,Rxf2,Qxf2,Nd5,Qxb2,Nxb6,axb6,Nf5,Rxa3,Rxa3,Qxa3,Qd4,Qc1+,Bd1,Ne5,Qxe5,Qxd1+,Kh2,f6,Qe7,Rf7,Qe8+,Rf8,Qe7,Rf7', 'Qe8+,Rf8,Ne7+,Kh8,Qxf8#', 'https://lichess.org/training/3i9Qd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iBaS', 'Rapid', 'T42at4', 1919, 'VikingElder', 1836, 'e4,c6,d4,d5,e5,Bf5,f4,e6,Nf3,Nd7,Be2,Bg4,O-O,Bxf3,Rxf3,Nh6,Nd2,Nf5,Nf1,Nxd4,Rg3,Bc5,Kh1,Nf5,Rf3,Qb6,Bd3,g6,Bxf5,gxf5,b3,Rg8,Be3,O-O-O,Bxc5,Qxc5,Rg3,Rxg3,Nxg3,Rg8,Qd2,b5,a4,bxa4,Rxa4,Nb6,Rxa7', 'Nc4,Qc3,Qxa7', 'https://lichess.org/training/3iBaS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iCch', 'Bullet', 'oussamafadli', 1839, 'Hans56', 1874, 'd4,d5,Bf4,Bf5,e3,e6,c4,Bd6,Bg3,c6,Qb3,b6,Nf3,c5,cxd5,Bxg3,hxg3,Qxd5,Bc4,Qd6,Bb5+,Nd7,Ne5,Nf6,Qa4,cxd4,exd4,Be4,O-O,Ke7,Nc3,Nxe5,dxe5,Qxe5,Rfe1,Rhd8,Nxe4,Nxe4,Rxe4,Qc5,Qb4,Qxb4,Rxb4,Rd2,Rc1,Rad8,Rc7+,Kf6,Rf4+,Kg6,Rcxf7,R8d5,Bc4,Rd1+,Kh2', 'Rh5+,Rh4,Rxh4+,gxh4,Kxf7', 'https://lichess.org/training/3iCch');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3id40', 'Blitz', 'Lewiy2010', 1547, 'chessfan1', 2080, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,d3,Bg4,Bg5,Bxf3,Qxf3,f6,Be3,Nd4,Bxd4,Bxd4,O-O-O,Bxc3,bxc3,Ne7,Qh5+,Ng6,g3,Qd7,f4,O-O-O,f5,Nf8,Be6,Nxe6,fxe6,Qxe6,g4,Qxa2,Qf5+,Kb8,Kd2,d5', 'Ra1,Qb2,Rhb1,Qxb1,Rxb1', 'https://lichess.org/training/3id40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3IdKY', 'Rapid', 'ValeriySagirov', 1849, 'vdvd10', 1835, 'e4,g6,d4,Bg7,f4,e5,dxe5,Nc6,Nf3,Nge7,Bb5,d6,exd6,cxd6,O-O', 'Qb6+,Rf2,Qxb5', 'https://lichess.org/training/3IdKY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3if2g', 'Rapid', 'miteran', 1689, 'sergei0381', 1601, 'e4,d6,a3,g6,h3,Bg7,Bc4,Nf6,c3,Nxe4,Qb3,e6,Nf3,Nf6,O-O,h6,Re1,O-O,d4,Nc6,d5,Na5,Qb4,Nxc4,Qxc4,exd5,Qd4,c6,Qh4,Kh7,g4,Ng8', 'Ng5+,Qxg5,Bxg5', 'https://lichess.org/training/3if2g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iftJ', 'Blitz', 'fcolecumberri', 1539, 'kropotkin69', 1583, 'g4,c5,Bg2,d6,d3,e6,g5,f6,h4,Be7,Nh3,Nc6,c4,e5,Qa4,Bd7,Nc3,fxg5,hxg5,Nd4,Qd1,Bc6,Bd5,Qd7,e3,Ne6,Bxe6,Qxe6,e4,O-O-O,f4,exf4,Nxf4,Qd7,Nfd5,Bxd5,Nxd5,h6,Bd2,Rf8,Bc3,Rf7,Qb3,b6,O-O-O,Qg4,Rdg1,Bxg5+,Bd2,Qe2,Bxg5,hxg5,Rxh8,Rf1+,Rxf1,Qxf1+,Qd1,Qf4+,Kc2,Qf8,Qg4+,Kb7,Qd7+,Ka6,Qb5+,Kb7,Qd7+,Ka6,Ne7,Qf2+,Kc3,Qd4+,Kb3', 'Qxd3+,Ka4,Qxc4+,Ka3,Qb4#', 'https://lichess.org/training/3iftJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Ij7y', 'Blitz', 'DimDim86', 1643, 'Monaton', 1682, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,Nc3,d6,Bg5,h6,Be3,Bg4,Qd2,Bxf3,gxf3,Nd4,Bxd4,exd4,Nd5,Nxd5,Bxd5,c6,Bb3,a5,a4,d5,O-O-O,Qd6,Rhg1,Bg5,Rxg5,hxg5,f4,gxf4,f3,O-O-O,Qxa5,dxe4,dxe4,Qc7,Qf5+,Kb8,Bxf7,Rxh2,Bb3,Rdh8,Qc5,Rf2,Qxd4,Rxf3,Kb1,Rfh3,e5,f3,Bc4,Rh1,e6,Rxd1+,Qxd1,f2,Qf3,Rh2,Qf8+,Ka7,Qc5+,b6,Qf8,Rh1+,Ka2,b5,e7,bxc4,e8=Q,f1=Q', 'Qa8+,Kb6,Qb4#', 'https://lichess.org/training/3Ij7y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3IJOP', 'Blitz', 'GM Arka50', 2782, 'GM Raunaksadhwani2005', 2753, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bd3,Bd6,Qh5,g6,Qh6,Bf8,Qh4,Be7,Bh6,Qa5+,c3,Be6,Nf3,Nd7,O-O,g5,Qg3,O-O-O,h4,Rhg8,hxg5,fxg5,Rfe1,g4,Ne5,Bd6,Bf4,Nxe5,Bxe5,Bxe5,Rxe5,Qb6,b4,h5,a4,h4,Qxh4,Rh8,Rh5,Rhe8,Re1,Qc7,Rhe5,Rh8,Qf6,Kb8,a5,a6,Qf4,Rh5,R5e4,Rdh8,Qxc7+,Kxc7,Kf1,Bd5,Rxg4', 'Rh1+,Ke2,Re8+', 'https://lichess.org/training/3IJOP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3IK1M', 'Blitz', 'PHOENIX-74', 2034, 'mehdikollari', 2223, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,O-O,Nxe5,Nxe5,Bxb5,d3,Bd6,Qh5,Qe7,c4,dxc4,dxc4,Bd7,b3,Nf6,Qg5,O-O,Bb2,h6,Qg3,Nh5,Qg4,Nf6,Qg3,Rad8,Nd2,Bc6,Ndf3,Ne4', 'Nxc6,Nxg3,Nxe7+,Bxe7,hxg3', 'https://lichess.org/training/3IK1M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Ikzp', 'Rapid', 'Mogulvar', 1862, 'Pleu', 1886, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,c6,Nf3,Bg4,Be2,e6,h3,Bh5,O-O,Be7,Bg5', 'Bxf3,Bxf3,Qxg5', 'https://lichess.org/training/3Ikzp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iMzJ', 'Blitz', 'oracle1745', 1949, 'rekahuszar', 2021, 'd4,e6,Bf4,d5,Nf3,Nf6,e3,Bd7,Be2,c5,O-O,Nc6,Nbd2,Rc8,c3,Nh5,Nb3,Nxf4,exf4,cxd4,cxd4,b6,Ne5,Bd6,Qd2,O-O,g4,f6,Nd3,Kh8,Kh1,Rg8,Rg1,g5,Rg2,Qc7,fxg5,fxg5,h4,Be7,h5,Rcf8,Rf1,Bd6,f3,Qd8,f4,gxf4,Nxf4,Bxf4,Rxf4,Qg5', 'Rxf8,Qxd2,Rxg8+,Kxg8,Nxd2', 'https://lichess.org/training/3iMzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iN0Q', 'Classical', 'PavinSugana', 1679, 'FcukUdikcnose', 1614, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Bc4,c5,Nf5,Bxf5,exf5,Nf6,O-O,O-O,b3,a6,Bb2,b5,Bd3,d5,c4,bxc4,bxc4,d4,Qc2,Nc6,Nd2,Nb4,Qb1,Qc7,Ne4,Ng4,f4,Ne3,Rf3,Nxf5,Ng5,Nxd3,Qxd3,g6,g4,Ne3,Rh3,Qxf4,Nxh7,Qxg4+,Rg3,Qh4,Rxg6+,Kh8,Nxf8,Rxf8,Rg3,Bd6,Bxd4+,cxd4,Rf1,Nxf1', 'Rh3,Rg8+,Kxf1', 'https://lichess.org/training/3iN0Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3INK0', 'Rapid', 'Everardo20', 1681, 'DJe257', 1908, 'e4,c5,Bc4,e6,d3,a6,a3,b5,Ba2,Bb7,Nc3,Nf6,Nf3,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,O-O,Bd6,h3,O-O,c4,Qc6,cxb5,axb5,Be3,Rd8,Rc1,Qb6,Qb3,Nc6,Rc3,Nd4,Nxd4', 'cxd4,Bxd4,Qxd4', 'https://lichess.org/training/3INK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iO03', 'Blitz', 'Richardotobinho', 2020, 'YuriyFarUk', 2003, 'e4,c5,Nf3,d6,Bc4,e6,O-O,Nc6,d4,cxd4,Nxd4,Nge7,c3,g6,Be3,Bg7,Nd2,O-O,N2f3,Nxd4,Bxd4,e5,Be3,Be6,Bxe6,fxe6,Qb3,d5,Qxb7,Rb8,Qxa7,Rxb2,Bg5,Bf6,Bxf6,Rxf6,Nxe5,dxe4,c4,Nf5,c5,Nd4,Rad1,Rbxf2,Rxf2', 'Ne2+,Rxe2,Qxd1+,Re1,Qxe1#', 'https://lichess.org/training/3iO03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iS9g', 'Classical', 'Lahewe', 1741, 'Mason_Fang', 1730, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,e6,Nf3,Bb4,Bd3,O-O,O-O,c5,Be3,cxd4,Bxd4,Nc6,Be3,Ng4,Bg5,Qd6,h3,Nge5,Nxe5,Qxe5,Bd2,Bd6,f4', 'Qd4+,Kh2,Qxd3', 'https://lichess.org/training/3iS9g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iSuB', 'Blitz', 'KacperV', 2403, 'NM Piotrek79', 2384, 'b3,d5,Bb2,Nf6,e3,Bf5,Nf3,e6,d4,Be7,Bd3,O-O,c4,c6,Nc3,Nbd7,O-O,Bxd3,Qxd3,Qa5,e4,dxe4,Nxe4,Nxe4,Qxe4,Bf6,Rfd1,c5,g3,Qa6,Qe2,cxd4,Nxd4,Rfd8,Nb5,Qa5,Nd6,Qc7,Nb5,Qc5,Ba3,Qe5,Qf3,Nc5,Re1,Rd3,Rxe5,Rxf3,Rxc5,Bxa1,Rc7,a6,Nd6,Bd4,Ne4,f5,Bc5,Rd8,Bxd4,Rxd4', 'Rc8+,Kf7,Ng5+,Kf6,Nxf3', 'https://lichess.org/training/3iSuB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3IsWW', 'Blitz', 'andimul', 1768, 'Ashishv95', 1786, 'd4,d5,Nc3,Nf6,Nf3,e6,Bg5,Be7,Ne5,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Qd2,O-O,O-O-O,Nc6,Nxc6,bxc6,Qf4,f5,f3,c5,e3,Bb7,Bc4,Kh8,h4,Bd5,Bxd5,exd5,h5,h6,Rhg1,Rab8,g4,exf3,gxf5,g5,hxg6,Kg7,Rh1,Rh8,Rh3,cxd4,exd4,f2,Rdh1', 'Qe1+,Rxe1,fxe1=Q#', 'https://lichess.org/training/3IsWW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3It2V', 'Rapid', 'Viceroi', 1976, 'Andreitudor', 1853, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Qf3,Nf6,Ne2,O-O,h3,Re8,O-O,c5,c3,Nc6,Bf4,Bxf4,Nxf4,cxd4,Qg3,dxc3,Nxc3,d4,Nce2,Nb4,Rfd1,Nxd3,Qxd3,b6,Nxd4,Bb7,Qg3,Qc8,Rac1,Qb8,Nf5,g6,Qg5,Ne4,Nh6+,Kf8,Qh4,g5,Rd7,Re7,Qg4,Qxf4,Qxf4,gxf4,Rxe7,Kxe7,Rc7+,Kf6,Ng4+,Ke6,Rxb7,Nd6,Rc7,a5,Rc6,b5,Rc2,a4,Re2+,Kd7,Ne5+,Kc7,Rc2+,Kb7,Rd2,Nf5,Rd7+,Kb6,Rxf7,Nd4,Rxh7,a3,bxa3,Rxa3,Rh6+,Kc5,Rh5,Kb4,Nd3+,Rxd3,h4,Ra3,Rd5,Ne2+,Kf1,Nc3,Rd2,Rxa2', 'Rxa2,Nxa2,h5', 'https://lichess.org/training/3It2V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3itPO', 'Rapid', 'Prabhas', 1686, 'AlekseiTimoshin', 1780, 'd4,d5,Bf4,Nc6,e3,a6,c3,Bf5,Nd2,f6,Ngf3,h5,Nh4,g5,Nxf5,gxf4,exf4,Bh6,Qf3,Bf8,Bd3,Qd7,O-O,O-O-O,Ng3,h4,Bf5,e6,Rfe1,hxg3', 'Bxe6,Qxe6,Rxe6,gxh2+,Kh1', 'https://lichess.org/training/3itPO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iVbH', 'Rapid', 'prntss', 1696, 'Samushka73', 1626, 'e4,d5,exd5,c6,dxc6,Nxc6,g3,e5,Bg2,Bd7,Ne2,Bd6,O-O,Nge7,b3,O-O,Bb2,f5,d4,e4,Nd2,Nd5,Nc4,Bb8,Ne3,Qg5,Nxd5,f4,Ndxf4,Bxf4,Nxf4,Rxf4,f3,Rf7,fxe4,Raf8,Rxf7,Rxf7,e5,Qe3+,Kh1,Rf2,Qg1,Rxg2,Qxg2,Nxd4,Qxb7', 'Bc6+,Qxc6,Nxc6', 'https://lichess.org/training/3iVbH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iwII', 'Classical', 'ajcacopardo', 1751, 'aria1358', 1718, 'd4,d5,c4,Bf5,cxd5,Qxd5,Nc3,Qd8,Nf3,f6,Bf4,Nc6,e3,Bd7,Be2,e6,O-O,Bd6,Bxd6,cxd6,Qb3,Rb8,Rfd1,Nge7,d5,Na5,Qb4,O-O,dxe6,Bxe6,Rxd6,Bd7,Bb5,Nac6,Qc5,Rc8,Bxc6,Nxc6,Rad1,Ne5,Qd5+,Kh8,Nxe5,fxe5,Rxd7,Qf6,Ne4,Qf5,Rd8,Rcxd8,Qxd8,h6,g4', 'Qxg4+,Ng3,Rxd8', 'https://lichess.org/training/3iwII');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iWU9', 'Classical', 'rcaq', 1735, 'KANTPUTT', 1841, 'd4,f5,Bg5,g6,Nf3,Bg7,e3,Nf6,Bxf6,Bxf6,Bc4,e6,O-O,b6,c3,Ba6,Bxa6,Nxa6,Qa4,Nb8,Nbd2,O-O,Ne5,Bxe5,dxe5,Nc6,f4,Qe7,Qd1,Qc5,Rf3,Ne7,Qe1,Nd5,Nb3,Qc6,Qh4,Rf7,Qe1,a5,Nd4,Qb7,a3,c5,Nb5,Qc6,a4,Nc7,Nd6,Rg7,e4,fxe4,Nxe4,Nd5,c4,Nb4,Nf6+,Kf7,Rd1,Nc2,Rxd7+', 'Qxd7,Nxd7,Nxe1', 'https://lichess.org/training/3iWU9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3IxUU', 'Rapid', 'MALDA04', 1990, 'rahul_0425', 1936, 'e4,c5,c3,d6,Ne2,Nf6,Ng3,g6,Bd3,Bg7,Bc2,O-O,d4,cxd4,cxd4,Nc6,Be3,Qa5+,Nc3,Nb4,Bb3,Qa6,Qe2,Qxe2+,Kxe2,Bd7,a3,Nc6,Rhc1,Na5,Ba2,Ng4,b4,Nc6,Nd5,Nxh2,f3,e6,Nc7,Rac8,Nb5,a6,Nxd6,Rc7,Rh1', 'Nxd4+,Bxd4,Bxd4', 'https://lichess.org/training/3IxUU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3iYdZ', 'Bullet', 'gnaisac', 1767, 'BuildThatWall', 1777, 'e3,d5,d4,c5,Nf3,cxd4,exd4,Nc6,Bb5,Bd7,O-O,Nf6,Re1,e6,Bg5,Be7,c3,O-O,Nbd2,Qb6,Ba4,h6,Bxf6,Bxf6,Qc2,Rac8,Bxc6,Bxc6,Ne5,Rfd8,Ndf3,Bb5,a4,Ba6,Rab1,Qc7,h3,Qb6,g4,Rc7,Qd2,Rdc8,g5,hxg5,Nxg5', 'Bxg5,Qxg5,f6,Qg6,fxe5', 'https://lichess.org/training/3iYdZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3j2dc', 'Blitz', 'NM isainz', 2164, 'JustAnotherChessTHUG', 2130, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,a3,Qc7,b4,cxd4,cxd4,f6,exf6,Nxf6,Nc3,a6,Bb2,Bd6,Bd3,O-O,O-O,Be8,Re1,Bh5,Be2,Ng4,h3,Bh2+,Kf1,Nxf2,Kxf2,Qg3+,Kf1,Rf4,Bc1,Rxd4,Nxd4,Nxd4,Bxh5,Rf8+,Bf3,Nxf3,gxf3', 'Rxf3+,Qxf3,Qxf3#', 'https://lichess.org/training/3j2dc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3J2Mz', 'Blitz', 'magho', 2290, 'CM ambushtactics', 2439, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,Bg7,c3,Be6,Nc2,f5,exf5,Bxf5,Nce3,Be6,g3,O-O,Bg2,Rb8,O-O,f5,Qh5,f4,Be4,h6,Qg6,Rf7,Qxe6,fxe3,fxe3,Qe8,Bh7+,Kxh7,Qxe8', 'Rxf1+,Rxf1,Rxe8', 'https://lichess.org/training/3J2Mz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3J3C8', 'Rapid', 'GoofyKaren', 1772, 'andreubm44', 1753, 'd4,e6,c4,c5,d5,d6,e4,exd5,cxd5,Nf6,Nf3,Nxe4', 'Qa4+,Nd7,Qxe4+', 'https://lichess.org/training/3J3C8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3J9Yz', 'Rapid', 'taha13644', 1830, 'vladimir401', 1927, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,Qf3,Nf6,e5,Qe7,O-O,Qxe5,d3,d5,Bf4,Qe6,Nd2,Be7,Rfe1,Qc6,Bb3,Bg4,Qg3,a5,a3,b5,Bxc7,a4,Ba2,Qxc2,Qd6,O-O,Rxe7,Qxd2,Bxd5,Qxb2,Rf1,Nxd5,Qxd5,Qxa3,Re4,Be6,Qxd4,Rac8,Bd6,Rfd8', 'Bxa3,Rxd4,Rxd4', 'https://lichess.org/training/3J9Yz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3JAzt', 'Rapid', 'TheoDeann', 1768, 'cuculok', 1773, 'e4,e5,Nf3,Nc6,c4,d6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,Be6,Be2,Nf6,Nc3,a6,a4,Be7,O-O,O-O,Bd2,Nd7,Nd5,Bxd5,cxd5,Nf6,Qc2,Qb6,Rab1,Rfc8,Bc3,Qc7,f4,b6,Rf3,a5,b3,g6,Re3,Qd7,Bb5,Qd8,e5,dxe5,fxe5,Nxd5,Rf3,Nxc3,Qxc3,Qd4+,Qxd4,cxd4,Rbf1,Rf8,Bc4,Kg7', 'Rxf7+,Kh6,Rxe7', 'https://lichess.org/training/3JAzt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3jcN2', 'Bullet', 'Zu_Chen_Li', 2119, 'markjit19', 2248, 'e4,c6,Ne2,d5,e5,Bf5,Ng3,Bg6,h4,h6,d4,e6,h5,Bh7,Bd3,Bxd3,cxd3,Nd7,Be3,Ne7,Nd2,c5,Qg4,Nc6,dxc5,Ndxe5,Qe2,Nd7,d4,Be7,O-O,O-O,Qg4,Kh7,f4,Nf6,Qh3,Nb4,Nf3,Nc2,Rae1,Nxe1,Rxe1,b6,Ng5+,Kg8,c6,Rc8,f5,hxg5,h6,Nh7,hxg7,Kxg7,Nh5+,Kh8,Kf2,Rc7,Nf6,Bxf6', 'Rh1,g4,Qxh7#', 'https://lichess.org/training/3jcN2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3JDoI', 'Blitz', 'mkiaee', 1634, 'Physicist1993', 1627, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nf6,O-O,d6,a3,a6,b4,Ba7,Ng5,O-O,d3,h6,Nf3,Nd4,Nxd4,Bxd4,Bb2,Bg4,Qd2,b5,Ba2,c6,Nd1,Bxb2,Nxb2,Nh5,c4,Nf4,cxb5,cxb5,a4,Bh3,gxh3', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/3JDoI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3JERa', 'Blitz', 'RedQueenArmy', 1705, 'Hansanakilar', 1766, 'd4,e6,Bf4,c5,e3,cxd4,exd4,d5,c3,Nc6,Nd2,b6,Bd3,Nf6,Ngf3,h6,Ne5,Bb7,Qe2,Bd6,Ndf3,Qc7,O-O,O-O-O,Ba6,Kb8,Bxb7,Kxb7,a4,Na5,b4,Nc6,Nxc6,Qxc6,Bxd6,Rxd6,b5,Qxc3,Rfc1,Qb4,Qe5,Rd7,Rc6,Ne4,Qxg7,Qb2,Rac1,Qxf2+,Kh1,Rhd8,Qe5,f6,Rc7+,Ka8', 'Rc8+,Rxc8,Rxc8+,Kb7,Rb8#', 'https://lichess.org/training/3JERa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Jfdl', 'Blitz', 'MrRobot88', 1967, 'matamoustro', 1888, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Nf3,d5,Bd3,c5,O-O,cxd4,exd4,dxc4,Bxc4,Bd7,a3,Be7,Qd3,Bc6,Bb3,Nbd7,Bg5,h6,Bh4,a6,Bc2,Rc8,Rfe1,Re8,Re3,Nf8,Ne5,Nd5,Bxe7,Qxe7,Nxd5,Bxd5,Rg3,Qf6,Re1,g6,h4,Qf5,Qxf5,exf5,Bxf5,Kh7,Bxc8,Rxc8,Rc3,Re8,Rc7,Kg8,Rec1,f6,Nd3,Bc6,Nb4,Ne6,R7xc6,bxc6,Rxc6,Nxd4,Rxa6,Kf7,g3,f5,Kg2,f4,gxf4,Ne2,Kf3,Nd4+,Kg4,h5+,Kg5', 'Nf3+,Kh6,Rh8#', 'https://lichess.org/training/3Jfdl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3JHGA', 'Rapid', 'duannishenmi', 1914, 'alagoz63', 1909, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Ng4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,d6,h3,Nh6,Bb5,O-O,O-O,dxe5,Bxc6,bxc6,Nxe5,Bb7,Qc3,Qd5,Nd2,c5,Nef3,cxd4,Qxd4,Qxd4,Nxd4,Rad8,N2f3,Rd7,Rac1,Rfd8,Nc6,Bxc6,Rxc6,Nf5,Rfc1,f6,Rxc7,h5,Rxd7,Rxd7,Rc8+,Kf7,g4,hxg4,hxg4,Nh6,Nh2,Kg6,Kg2,Kg5,Kg3,Rd3+,Nf3+,Kg6,Rc7,Nf7,Kg2,Nh6,Nh2,a5,Ra7,Rd2,Rxa5,Rxb2,a4,Rb4,f3,Rb2+,Kg3,f5,Ra6+,Kf7,g5,Ng8,g6+,Ke7,Ra7+,Kf6,Ra6+,Kg5,f4+,Kh6,a5,Nf6,Ra8,Kxg6,Nf1,Ne4+,Kf3', 'Rf2+,Ke3,Rxf1', 'https://lichess.org/training/3JHGA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3jJ0p', 'Blitz', 'MUKESHDANGAR', 1747, 'machnpottvoll', 1693, 'e4,e6,Nf3,d5,exd5,exd5,d4,c5,c3,cxd4,cxd4,Nf6,Bb5+,Nc6,Ne5,Bd7,O-O,Be7,Qc2,Rc8,Bg5,Nxe5,Bxd7+,Nexd7,Qa4,O-O,Qxa7,Qb6,Qxb6,Nxb6,Nc3,h6,Be3,Rfe8,Nb5,Nc4,b4,Bxb4,Rab1,Bf8,Bf4,b6,Nc7,Bd6,Bxd6,Nxd6,Na6,Nc4,Nb4,Re2,a4,Ra8,Ra1,Nd2,Rfc1,Nc4,Nd3,Rd2,Ne5,Rxd4,Nc6,Rd2,Ne7+,Kh7,Nf5,Ne4,f3,Nf6,Re1,Kg6,Ne7+,Kh7,h4,Nh5,Nf5,Kg6,g4,Nf4,Ne7+,Kh7,Nf5,Rg2+,Kh1,Rf2,Re7,Rxf3,Rxf7,Rh3+,Kg1,Kg6,Rxg7+,Kf6,Rf1,Rg3+,Kh2,Rh3+,Kg1,Ne2+,Kg2,Rd3', 'g5+,hxg5,hxg5+,Ke5,Re7#', 'https://lichess.org/training/3jJ0p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3jkxO', 'Rapid', 'Rpoble', 1796, 'SAd1356', 1801, 'e4,e5,Nf3,Nc6,c3,Bc5,Bc4,Nf6,d3,d6,Bb3,Bb6,O-O,Bg4,Nbd2,O-O,Re1,Re8,Nf1,Na5,Bc2,c5,Ng3,g6,Bg5,Kg7,h3,Bxf3,Qxf3,Re6,Rad1,Nc6,Bb3,Re7,Ne2,Rd7,d4,cxd4,cxd4,Nxd4,Nxd4,Bxd4,Qe2,Rc8,Qb5,Qb6', 'Bxf6+,Kxf6,Qxd7', 'https://lichess.org/training/3jkxO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3jLmE', 'Classical', 'Quastor', 1790, 'ammoro', 1624, 'f4,d5,Nf3,Nc6,b3,e6,Bb2,d4,g3,Bc5,Bg2,Nf6,d3,Ng4,Qd2,Qf6,Na3', 'Bb4,Qxb4,Nxb4', 'https://lichess.org/training/3jLmE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3jlvc', 'Blitz', 'Aulinho', 2270, 'philus2005', 2249, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,c3,c5,f4,Nc6,Ndf3,Qb6,g3,cxd4,cxd4,Be7,Kf2,g5,fxg5,Ndxe5,Kg2,Nc4,b3,Nd6,Bf4,Ne4,Bd3,Bd7,Ne2,O-O-O,Ne5,Nxe5,Bxe5,Bxg5,Qc2+,Bc6,Bxh8,Rxh8,h4,Bf6,Rad1,Kb8,Bxe4,dxe4,Kh2,Be7,Rhf1,f5,Nf4,Bb5,Rfe1,Rd8,d5,e5,Ne6,Rc8,Qb2,Bd6,Rc1,Bd3,Rxc8+,Kxc8,Rc1+,Kd7,Qd2,f4,gxf4,exf4,Nc5+,Bxc5,Qc3,f3,Qg7+,Be7,Qg4+,Ke8,Qg8+,Kd7', 'Qc8+,Kd6,Qe6#', 'https://lichess.org/training/3jlvc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3JLwI', 'Rapid', 'DamianAdv7', 1721, 'ALFILx', 1796, 'd4,e6,c4,c5,e3,f5,Nc3,Nf6,Bd3,cxd4,exd4,Bb4,Bf4,Bxc3+,bxc3,Qa5,Qd2,O-O,Nf3,Nc6,O-O,Ne4,Bxe4,fxe4,Ne5,Qd8,Rfd1,d5,cxd5,exd5,c4,Be6,cxd5,Bxd5,Rab1,Qf6,Bg3,Nxe5', 'dxe5,Qf7,Qxd5,Qxd5,Rxd5', 'https://lichess.org/training/3JLwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3JM51', 'Rapid', 'Pepito2206', 1957, 'sampleman', 2168, 'd4,d5,Nf3,e6,g3,c5,Bg2,Nf6,O-O,cxd4,Nxd4,e5,Nb3,Be6,Nc3,Be7,Bg5,Nbd7,e4,dxe4,Nxe4,Nxe4,Bxe7,Qxe7,Bxe4,Rb8,Na5,O-O,Bxb7,Nf6,Bg2,Rxb2,Qc1,Rb5,Nc6,Qc5,Qe3,Qxe3,fxe3,Rc5,Nxa7,Ng4,Rfe1,Rxc2,a4,Rb8,h3,Rbb2,Be4,Nf2,Bxc2,Nxh3+,Kh1,Rxc2,Rec1', 'Bd5+,e4,Bxe4#', 'https://lichess.org/training/3JM51');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3jNAH', 'Rapid', 'niespokojna_dusza', 1771, 'mustimusti', 1667, 'e4,e6,Nf3,d5,exd5,exd5,b3,Bd6,Bb2,Nf6,c4,O-O,cxd5,Bc5,d4,Bb4+,Nbd2,Ne4,Be2,Re8,O-O,Bc3,Rb1,Bxb2,Rxb2', 'Nc3,Qc2,Nxe2+', 'https://lichess.org/training/3jNAH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3jnGw', 'Rapid', 'ThreeviosFiver', 1667, 'lucaslawliet2015', 1631, 'g3,d5,Nc3,e5,Bg2,Nf6,Nf3,Nc6,d3,Bf5,Bg5,Be7,Bxf6,Bxf6,e4,dxe4,dxe4,Be6,O-O,O-O,Nd5,Bxd5,exd5,Ne7,Re1,Qd6,c4,b5,b3,e4,Rxe4,Bxa1,Qxa1,Rae8,Rg4,Ng6,Nh4,f5,Rg5,f4,Nf5,Qe5', 'Nh6+,gxh6,Rxe5', 'https://lichess.org/training/3jnGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3jsbO', 'Rapid', 'IgoR__NiK', 1876, 'countyboy', 1826, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Bc5,c3,O-O,b4,Ba7,O-O,d6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Kg7,Qf3,Qe7,Qg3,Nh5', 'Bxe7+,Nxg3,Bxf8+,Kxf8,hxg3', 'https://lichess.org/training/3jsbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3jti1', 'Blitz', 'Ionitchouk', 1614, 'gusbox', 1639, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Nf6,Nc3,Qc7,Bd3,Bb4,O-O,O-O,f4,Bc5,Be3,e5,Nf5,Bxe3+,Nxe3,exf4,Nf5,Nc6,Nd5,d6,Nxf6+,gxf6', 'Qg4+,Kh8,Qg7#', 'https://lichess.org/training/3jti1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Jui7', 'Rapid', 'PEDASNYA-LADA', 2156, 'Kaled', 2153, 'e4,c5,Nf3,Nc6,c3,e6,d4,d5,e5,cxd4,cxd4,Bb4+,Nc3,Nge7,Bd3,O-O,O-O,f6,exf6,Rxf6,Bg5,Rf8,Bh4,Qc7,Bxh7+,Kxh7,Ng5+,Kg6,f4,Nxd4,Qxd4', 'Bc5,Qxc5,Qxc5+', 'https://lichess.org/training/3Jui7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3K0xk', 'Rapid', 'Swish2900', 2055, 'Chess_Hawk721', 2122, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,O-O,c3,d6,Nbd2,Nbd7,Be2,Re8,O-O,e5,dxe5,Nxe5,Nxe5,dxe5,Bg3,c6,Nf3,Qc7,Bc4,Ne4,Qb3,b5,Be2,Be6,Qc2,f5,Nd2,Nxd2,Qxd2,Rad8,Qc1,g5,h3,f4,Bh2,Rf8,exf4,gxf4,Bf3,Bd5,Bxd5+,cxd5,Re1,Qf7,Qc2,Qh5,Qe2,f3,Qxb5,fxg2,Re3,e4,Rg3,Kh8,Re1,Be5,Rxg2,Bxh2+,Rxh2,Rg8+,Kf1,Qe5,Rg2,Rxg2,Kxg2,Rg8+,Kf1,Qf5,Qc5', 'Qxh3+,Ke2,Qd3#', 'https://lichess.org/training/3K0xk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3K10w', 'Rapid', 'Admiral19901130', 1888, 'kingdama', 2035, 'e4,e5,f4,exf4,Nf3,d5,exd5,Bg4,Bc4,Bxf3,Qxf3,Qh4+,g3,fxg3,hxg3,Qxc4,d3,Qb4+,Nc3,Nf6,O-O,Nbd7,a3,Qd6,Bf4,Qb6+,Kg2,O-O-O,b4,a6,Na4,Qa7,Be3,b6,c4,Bd6,Rac1,Ne5,Qf5+,Kb8,c5,Neg4,Bg1,g6,Qf3,bxc5,bxc5,Be5,c6,Bd4,Rb1+,Kc8,Rb7,Bxg1,Rxa7,Bxa7,Rb1,Rxd5,Rb7,Rf5,Qd1,Ne3+,Kh3,Nxd1,Rxa7,Kb8,Rb7+,Ka8,Rxc7,Ne3', 'Nb6+,Kb8,Rb7#', 'https://lichess.org/training/3K10w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3K2qY', 'Rapid', 'IRON_TWISTER', 2052, 'Kjar', 2010, 'd4,d5,f4,Nf6,e3,Bf5,Bd3,Bxd3,cxd3,e6,Nf3,c5,dxc5,Bxc5,d4,Bb4+,Bd2,Bd6,Ne5,Nbd7,Nc3,O-O,Qe2,a6,g4,Bb4,g5,Bxc3,Bxc3,Ne4,Rg1,Rc8,Qd3,Nxe5,dxe5,b5,Rg2,Qb6,Bd4,Qa5+,Kf1,Rc4,a3,Rfc8,Re1,Rc1,b4,Qa4,Re2,Rxe1+,Rxe1,Qc2,Qxc2,Rxc2,Re2,Rc1+,Kg2,Rc4,Kf3,Rc1,Ra2,Rc4,Ke2,g6,h4', 'Rxd4,exd4,Nc3+,Kd3,Nxa2', 'https://lichess.org/training/3K2qY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3K3c2', 'Rapid', 'jllm', 1705, 'IamVishal01', 1762, 'd4,d5,c4,c5,dxc5,Nf6,Be3,e5,g3,d4,Bg5,Bxc5,Bg2,Nc6,Nf3,h6,Bxf6,Qxf6,O-O,O-O,Nbd2,Be6,Ne4,Qe7,Nxc5,Qxc5,b3,Rad8,Qd3,b6,Rad1,Ne7,Qb1,Bf5,Qb2,f6,b4,Qxc4,Rc1,Qb5,Nh4,Bh7,Qb3+,Kh8,a4,Bg8,axb5,Bxb3,Rc7,Nd5,Rxa7,Kh7,Nf5,Kg6,g4,Rf7,Ra3,Bc4,Be4,Kg5,h4+,Kxg4,Rg3+,Kf4,Bb1,Nc3', 'e3+,dxe3,fxe3#', 'https://lichess.org/training/3K3c2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3k3ST', 'Blitz', 'CheezItAddict', 1638, 'catarrov', 1849, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,cxb2,Bxb2,e6,Nf3,Nc6,O-O,Nf6,Nc3,Bb4,e5,Bxc3,Bxc3,Ne4,Bb2,Ng5,Ba3,Nxf3+,gxf3,Nxe5,Bb3,Qg5+,Kh1,Qf4,Qd6,Qxf3+,Kg1,Ng6,Rfd1,b6,Rac1,Qf4', 'Rxc8+,Rxc8,Qxd7#', 'https://lichess.org/training/3k3ST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3K50u', 'Blitz', 'georgsokolovv', 2043, 'chmaugusto', 2059, 'e4,g6,d4,Bg7,Nf3,c5,c3,cxd4,cxd4,d5,e5,Bg4,Nc3,Nc6,Be2,e6,h3,Bxf3,Bxf3,Nge7,g4,h5,O-O,hxg4,hxg4,Ng8,Bf4,Qh4,Bg3,Qh3,Bg2,Qh7,Nb5,Kd7,Nd6,Nh6,Nxb7,Rab8,Nc5+,Ke7,Bh4+,f6,exf6+,Bxf6,g5,Nf5,gxf6+,Kf7,Bg3', 'Nxg3,fxg3,Qh2+,Kf2,Rxb2+', 'https://lichess.org/training/3K50u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3K6Z5', 'Classical', 'Stromboli', 1832, 'mr_nice', 1736, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,dxe5,Nf5,Qxd8+,Kxd8,Bf4,h6,Nc3,Be6,h3,Kc8,Rad1,b6,Rfe1,Kb7,Ne2,Be7,Ned4,Nxd4,Nxd4,Bd5,b3,Rae8,c4,Be6,Nxe6,fxe6,Rd7,g5,Bh2,Rhf8,g3,Bc5,Re2,Rf3,Kg2,Ref8,Bg1,h5,Rg7,h4,g4,Rd3,Rxg5,Rff3,Rg6,Rxh3,Rxe6,Rhf3,Rf6,h3+,Kh2,Rxf6,exf6,Rf3,Re5', 'Bd6,Kh1,Bxe5', 'https://lichess.org/training/3K6Z5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3KAlO', 'Blitz', 'FallschirmSpringer', 2443, 'IM MannySen', 2418, 'd4,c5,Nf3,cxd4,g3,Qa5+,Nbd2,Nc6,Bg2,e5,O-O,Nf6,c3,dxc3,Nc4,Qc7,e4,Bc5,Be3,Bxe3,Nd6+,Kf8,fxe3,h6,bxc3,Ne8,Nxf7,Kxf7,Ng5+,Ke7', 'Rf7+,Kd8,Ne6#', 'https://lichess.org/training/3KAlO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Kbtp', 'Rapid', 'evolution2', 2050, 'sunmoon24', 2097, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nf3,Be7,O-O,O-O,Nc3,c5,dxc5,Bxc5,Re1,Bg4,h3,Bh5,Bg5,Qb6,Rf1,Nc6,Bxf6,gxf6,Nxd5,Qd8,a3,Ne5,Be4,f5,Bxf5,Nxf3+,gxf3,Qg5+,Bg4,f5,f4,Qg7,Ne3,fxg4,Qd5+,Kh8,Qxh5,gxh3+,Kh2', 'Bxe3,Rg1,Bxf4+', 'https://lichess.org/training/3Kbtp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3KbZW', 'Rapid', 'hsolitario', 1971, 'LX2019', 1988, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qd8,Nxe4,Be7,Bg5,O-O,Bxe7,Nxe7,Qd3,Bf5,Qb3,Qd5,c4,Qc6,Nxd4,Qg6,Nxf5,Nxf5,Qf3,Nd4,Qc3,Rad8,Rad1', 'Ne2+,Rxe2,Rxd1+', 'https://lichess.org/training/3KbZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3KGkE', 'Classical', 'celal55', 1675, 'Miraaage', 1665, 'e4,e5,Bc4,Nf6,Qf3,Bc5,h3,d6,g4,h6,a4,Be6,d3,Bxc4,dxc4,Nc6,c3,Na5,Nd2,Qe7,b4,Bxf2+,Kxf2,Nc6,Ne2,Qe6,Ng3,g6,a5,Nd7,b5,Ncb8,Ba3,c5,bxc6,bxc6,Rab1,c5,Qd3,Nc6,Nb3,Nf6,Rhd1,Rd8,a6,O-O,Kg2,Nh7,Nd2,Na5,Rb5,Nc6,Rf1,Ng5,h4,Nh7,Kh3,h5,Qf3,hxg4+,Qxg4,Qxg4+,Kxg4,f6,Rb7,Rf7,Rxf7,Kxf7,h5,Rg8,Rf3,gxh5+,Kxh5,Rg5+,Kh4,Ne7,Rd3', 'Ng6+,Kh3,Nf4+,Kh2,Nxd3', 'https://lichess.org/training/3KGkE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3kJ1Q', 'Bullet', 'Avale', 1603, 'BhushanBhalgat', 1650, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Nxe4,Nxe4,Qf3,Nf6,Bd3,e6,Nc3,c6,O-O,Bd6,Be2,Nbd7,d3,Ne5,Bg5,Nxf3+,Bxf3,h6,Bh4,g5,Bg3,Bxg3,fxg3,h5,Be4,h4,Rf2,hxg3,hxg3,Nxe4,Nxe4,f5,Nc5,b6,Nb3,g4,Raf1,Qd5,c4,Qxd3,Nd2,Bb7,Nb3,c5,Rd2,Qe4,Rfd1,O-O,Nc1,Kg7,Nd3,Rh8,Nf4,e5,Rd7+,Kf6', 'R1d6+,Kg5,Rg7#', 'https://lichess.org/training/3kJ1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3KJCd', 'Rapid', 'patriks-i', 1833, 'Woltero', 1607, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nf3,Bd7,Be2,Qb6,O-O,Nge7,Nc3,Nf5,b3,Ncxd4,Nxd4,Qxd4,Qxd4,Nxd4,Bd3,Bb4,Bd2,O-O,Rfe1,Rfc8,Rac1,a6,Re3,Nb5,Bxb5,axb5,Rd3,Bxc3,Rdxc3,Rxc3,Rxc3,Rxa2,Bc1,Kf8,h3,Bc6,f3,b4,Rc5,Re2,f4,Ke7,Kf1,Ra2,g3,Kd7,Ke1,Rg2,g4,Rh2,g5,Rxh3,Ra5,Rxb3,Ra1,Bb5,Bd2,Kc6,Rc1+,Kb6,Ra1,Ra3,Rb1,Ba4,Bxb4,Re3+,Kf2,Re4,Bd6+,Bb5,Kf3,Rc4,Bf8,g6,Bd6,Ka6,Ra1+,Kb6,Rb1,Ka5,Ra1+,Ra4,Rb1,Ba6', 'Bc7+,b6,Bxb6#', 'https://lichess.org/training/3KJCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3KjE1', 'Rapid', 'romanajedrez', 1634, 'Igor-Bessonov', 1602, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Nxe4,Bd3,Nxf2,Kxf2,Bc5+,Kf1,O-O,Nc3,Re8,Bf4,d6,Qd2,dxe5,Be3,Bxe3,Qxe3,Bg4,Be4,Bxf3,Qxf3,Nd4,Qd3,Qh4,Qh3,Qf4+,Ke1,Rad8,Rf1', 'Nxc2+,Bxc2,Qd2#', 'https://lichess.org/training/3KjE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3kJGo', 'Rapid', 'Garogarou', 1998, 'scotchnchess', 2097, 'e4,e5,f4,d5,exd5,exf4,d3,Nf6,Nf3,Nxd5,Qe2+,Be7,c4,Nf6,Bxf4,O-O,Nbd2,Bd6,Bg5,Re8,Ne4,h6,Bxf6,gxf6,Nxf6+,Kf8,Qxe8+,Qxe8+,Nxe8,Kxe8,O-O-O,Nc6,g3,Bg4,Be2,Kf8,h3,Bf5,g4,Bh7,Rhf1,Re8,Ng1,Bc5,Bf3,Nb4,d4', 'Nxa2+,Kd2,Bb4#', 'https://lichess.org/training/3kJGo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3KjPJ', 'Rapid', 'vsrepalle', 1877, 'davidmarcouiller', 1944, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Bc5,e5,d5,Bb5,Ne4,Nxd4,Bxd4,Qxd4,O-O,Bxc6,bxc6,b3,c5,Qe3,Ba6,Rd1,f5,f3,f4,Qe1,Ng5,Qa5,Be2,Rd2,Bxf3,Qxc5,Be4,Nc3,f3,Nxe4,Nxe4,Qxd5+,Qxd5,Rxd5,f2+,Kf1,Rad8,Rxd8,Rxd8,Be3,g5,g3,Rf8,Ke2,a6,Rf1,Nc3+,Kd3,Nxa2,Rxf2,Rd8+,Kc4,h6,c3,Nxc3,Kxc3,Rd5,Bd4,c5,Be3,Rxe5,Rf3,g4,Bf4', 'gxf3,Bxe5,f2', 'https://lichess.org/training/3KjPJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3kLbW', 'Classical', 'Hassomah123', 1797, 'Shakhmatnyi', 1819, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e3,O-O,d4,d6,Be2,Nc6,O-O,e5,d5,Ne7,e4,Ne8,Ne1,f5,exf5,gxf5,f4,Nf6,fxe5,dxe5,Bh5,Nxh5,Qxh5,f4,Ne4,Bf5,Ng5,Qd6,g4,fxg3,Rxf5,Rxf5', 'Qxh7+,Kf8,Ne6+,Qxe6,dxe6', 'https://lichess.org/training/3kLbW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3KLpx', 'Blitz', 'orthi1964', 1595, 'petarsilic', 1564, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,c3,Bg4,d3,a6,Ba4,Ne7,Nbd2,Ng6,Re1,O-O,Nf1,f5,Ne3,fxe4,Nxg4,exf3,Bxc6,bxc6,d4,Bb6,Qb3+,Kh8,Be3,Qh4,h3,fxg2,f3,Qxh3,Nh2,Nh4,Re2,Nxf3+,Nxf3,Rxf3,Rxg2,Rxe3,Qf7,Rg8,Rf1,exd4', 'Qxg7+,Rxg7,Rf8+,Rg8,Rgxg8#', 'https://lichess.org/training/3KLpx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3KSK0', 'Rapid', 'ArtemKosov88', 1695, 'LeTeutz', 1880, 'd4,d5,c4,e6,e3,Nf6,Bd3,Bd6,Nc3,c6,e4,dxe4,Nxe4,Nxe4,Bxe4,Qc7,Nf3,Nd7,c5,Be7,Bg5,Nf6,Bc2,O-O,O-O,b6,b4,bxc5,dxc5,a5,a3,axb4,axb4,Ba6,Re1,Bc4,Bb3', 'Rxa1,Qxa1,Bxb3', 'https://lichess.org/training/3KSK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3KU36', 'Rapid', 'ZavenCigdemoglu', 1899, 'MONOMANE', 1637, 'e4,e5,f4,d5,exd5,e4,c4,Nf6,d4,exd3,Bxd3,Bc5,Qe2+,Qe7,Qxe7+,Kxe7,Nc3,Re8,Kd1,Kf8,Nf3,Bg4,Kc2,c6,Ne5,cxd5,Nxg4,dxc4,Nxf6,cxd3+,Kxd3,gxf6,Ne4,Na6,Nxc5,Nxc5+,Kc4,Rac8,Kb5,a6+,Kb6,Re6+,Ka7,b6,b4,Re7+,Kxb6', 'Rb7+,Ka5,Rb5#', 'https://lichess.org/training/3KU36');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3kUcy', 'Rapid', 'Michelf15', 1619, 'RRDAC', 1601, 'd4,d5,g3,e6,Bg2,Nf6,Nf3,Bd6,Bg5,b6,c4,Bb7,Ne5,Nbd7,Qa4,O-O,Bf4,Ne4,Nxd7,Re8,Ne5,f6,Nd3,f5,Ne5,a5,c5,bxc5,Qb5,Qb8,Qd7,Nf6,Qf7+,Kh8,Ng6+,hxg6,Qxg6,Nh7,Be3,Re7,f4,cxd4,Bxd4,Qg8,Nd2,c5,Bc3,c4,O-O-O,Bb4,Be5,Bxd2+,Rxd2,a4,a3,Rf8,Bd6,Rf6,Qh5,Re8,Bh3,Rd8,Be5,Rh6', 'Qxh6', 'https://lichess.org/training/3kUcy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3kvBZ', 'Blitz', 'Alkq', 1775, 'Herthuuum', 1766, 'e4,e5,Bc4,Nf6,d3,Nc6,c3,Bc5,b4,Bb6,a4,a6,a5,Ba7,Be3,Bxe3,fxe3,O-O,Nd2,d5,exd5,Nxd5,Bxd5,Qxd5,Ndf3,Re8,e4,Qd8,Ne2,Bg4,Ng3,Qd7,O-O,Rad8,h3,Bxf3,Qxf3,Qxd3,Qxf7+,Kh8,Nf5,Rg8,Rf3,Qxe4,Nh6,gxh6,Qf6+,Rg7,Raf1,Rg8,Rg3,Ne7,Rff3,Nd5', 'Qxg7+,Rxg7,Rf8+,Rg8,Rgxg8#', 'https://lichess.org/training/3kvBZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3l0NN', 'Classical', 'NaturePigeon', 2028, 'andjeogabriel', 2117, 'c4,e5,g3,Nf6,Bg2,c6,Nc3,Bc5,a3,a5,Rb1,d5,cxd5,cxd5,e3,Bg4,Nge2,Nc6,O-O,O-O,h3,Be6,d4,Bd6,Nb5,Bb8,Nec3,e4,f4,exf3,Rxf3,Ne4,Nxe4,dxe4,Rf1,Bxg3,Bxe4,Qg5,Bg2,Qxb5,d5,Rad8,Qh5,Bxd5,Rf5,Qd3,Bxd5,Qxb1', 'Bxf7+,Rxf7,Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/3l0NN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3L3Cp', 'Rapid', 'ZloyKolxoznik', 1979, 'jamalyounus1961', 1871, 'd4,d5,c4,Be6,Nc3,dxc4,d5,Bd7,e4,b5,Nf3,a6,Nd4,Nf6,Bf4,e6,dxe6,fxe6,Qf3,Nc6,Rd1,Bb4', 'Nxc6,Bxc6,Rxd8+', 'https://lichess.org/training/3L3Cp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3l469', 'Rapid', 'Canman258', 1694, 'D_Sergeev', 1727, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Nc3,Nf6,Bd3,Bxd3,cxd3,e6,O-O,Nbd7,Bf4,a6,a3,b5,Ne2,Be7,Ng3,O-O,Ne5,Rc8,Rc1,Nxe5,dxe5,Nd7,d4,Bg5', 'Rxc8,Qxc8,Bxg5', 'https://lichess.org/training/3l469');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3l6cJ', 'Rapid', 'Nygaaard', 1955, 'TrivialJeff', 1939, 'd4,g6,c4,Bg7,Nf3,Nf6,Bf4,d6,Nc3,O-O,e3,c5,h3,cxd4,exd4,Nc6,Be2,Qb6,Qd2,Nh5,Be3,Qd8,d5,Ne5,Nxe5,Bxe5,Bxh5,gxh5,O-O,Bf5,Bh6,Bg7,Qg5,Bg6,Bxg7,Kxg7,Qd2,Rc8,b3,a6,Ne2,b5,cxb5,axb5,Qd4+,f6,Nf4,Bf7,Rfe1,Rc5,Re3,Re8,Rae1,Qd7,a3,e5,Qd1', 'exf4,Rxe8,Bxe8', 'https://lichess.org/training/3l6cJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3L8aM', 'Blitz', 'vizmai', 1907, 'Praizess', 1874, 'd4,Nf6,Bf4,e6,Nf3,d5,e3,c5,c3,Nc6,Nbd2,cxd4,exd4,Bd6,Bxd6,Qxd6,Bd3,O-O,Qe2,e5,Nxe5,Nxe5,dxe5,Qc6,exf6,Re8,Qxe8+,Qxe8+,Be2,gxf6,f3,Qe3,Nf1,Qe5,Kf2,Bf5,Re1,d4,Bd3,Qc5,Bxf5,Qxf5,cxd4,Rc8,Ng3,Rc2+,Re2,Qd3,Re1,Qxd4+,Kf1,Qxb2,Re8+,Kg7,Nf5+,Kg6,Ne3,Rf2+,Kg1,Qxa2,g4,Rxf3,Nf5,Qf2+,Kh1,h5', 'Rg8+,Kh7,Rg7+,Kh8,Re8#', 'https://lichess.org/training/3L8aM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3L8XM', 'Rapid', 'Talkwithme', 1983, 'ihteandr1', 1970, 'c4,e5,Nc3,Nc6,e4,a6,Nge2,Bc5,a3,Qf6,f3,Nge7,b4,Bd4,Bb2,d6,Nxd4,Nxd4,Nd5,Nxd5,cxd5,O-O,Bxd4,exd4,Rc1,Bd7,Rxc7,Bb5,Rxb7,d3,Qb3,Rac8,Bxd3,Rc1+,Ke2,Bxd3+,Qxd3,Rxh1,Qxa6,Rxh2,Kf2,Qh4+,Ke3,Rxg2,Qxd6,Qg5+,f4,Qg3+,Kd4,Rxd2+,Kc5,Rc8+,Kb5,Qd3+,Kb6,Qd4+,Kb5,Qd3+,Kb6,Qxa3,Rb8,Qe3+,Kb5,Qd3+,Kb6,Qd4+,Kb5,Qc4+,Kb6,Ra2', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/3L8XM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LaNU', 'Blitz', 'Vlad_Baziuk', 2463, 'NM crptone', 2549, 'e4,a5,Nf3,c6,d4,d6,Bd3,Nd7,O-O,e5,c3,Ngf6,Bg5,Qb6,Nbd2,Qxb2,Nc4,Qxc3,Rc1,Qb4,dxe5,dxe5,Ncxe5,Be7,Bc4,O-O,Rb1,Qc5,Nxf7,Rxf7,Qb3,a4,Bxf7+,Kf8,Qc4,Qa5,e5,Nxe5,Nxe5,Qxe5,Bf4,Qf5,Rfe1,Ra5,Be6,Bxe6,Qxe6,Qxe6,Rxe6,Rf5,Be3,b5,Rxc6,Kf7,Rb6,b4,Bd2,Nd5,Rb5,Ke6,Re1+,Re5,Rxe5+,Kxe5,Kf1,Kd4,Ke2,Kc4,Rb7,Bf6,f3,b3,axb3+,axb3,Bc1,Nc3+,Kd2', 'Bg5+,Ke1,Bxc1', 'https://lichess.org/training/3LaNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LC3a', 'Rapid', 'miunyii', 1614, 'DexterBoo', 1802, 'Nf3,Nc6,d4,d5,Bf4,Bf5,e3,Nf6,a3,e6,c4,dxc4,Bxc4,Na5,Ba2,Be7,Qa4+,Nc6,Ne5,O-O,Nxc6,bxc6,Nc3,Nd5,Qxc6,Nxf4,exf4,Qxd4,Qxc7,Bd6,Rd1', 'Qxd1+,Nxd1,Bxc7', 'https://lichess.org/training/3LC3a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ld0b', 'Blitz', 'MichouPachoups', 1620, 'Piyush_8651', 1703, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb3,Nxb3,axb3,Nxd5,d3,Be7,Ne4,O-O,O-O,f5,Nec3,Nf6,Re1,Bd6,Na3,f4,f3,Nh5,Ne4,Qh4,Qe2,Rf5,Nc4,b6,Ncxd6,cxd6,Bd2,Bb7,Nxd6,Rg5,Nxb7,Ng3,Qf2', 'Qxh2+,Kxh2,Rh5+,Kg1,Rh1#', 'https://lichess.org/training/3ld0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Ld0e', 'Rapid', 'siti-vetriana', 2336, 'Sopran', 2297, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,c5,Nge2,b6,Qd2,Bb7,Rd1,Nbd7,d5,h5,Nc1,Ne5,Be2,Re8,O-O,e6,dxe6,Rxe6,b3,Nc6,Nd3,Re7,Bg5,Nd4,Nf4,Re5,Bxf6,Bxf6,Nfd5,Bg7,f4,Re8,Bd3,f5,exf5,gxf5,Kh1,Qd7,Qf2,Qf7,Ne2,b5,Nxd4,cxd4,Qh4,bxc4,bxc4,Bxd5,cxd5,Qxd5,Qxh5,Qf7,Qxf5,Qxf5,Bxf5,Re2,Bd3,Re3,g4,Kf7,Kg2,Rh8,Rf2,d5,g5,Bf8,a4,Bc5,Rf3,Rxh2+,Kxh2,Rxf3,g6+,Kf6,f5,Bd6+,Kg2,Rg3+,Kf2,a5,Bb1,Ra3,Re1', 'Bg3+,Kf1,Bxe1', 'https://lichess.org/training/3Ld0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LGDB', 'Blitz', 'jlvdca', 1678, 'Ramdan1_arsy4d', 1680, 'e4,e6,d4,d6,f4,Nd7,Be3,c5,c3,cxd4,cxd4,Ngf6,Nc3,Be7,Nf3,a6,Bd3,O-O,O-O,b6,Rc1,Bb7,e5,dxe5,fxe5,Nd5,Nxd5,Bxd5,h3,f6,Bf4,fxe5,Nxe5,Bf6,Bxh7+,Kxh7,Qh5+,Kg8,Ng6,Re8,Be5,Ra7,Qh8+,Kf7,Qh5,Nf8,Nf4+,Ke7,Nxd5+,exd5,Bxf6+,gxf6,Rfe1+,Kd6,Qf5,Rae7,Qxf6+,Ne6', 'Qe5+,Kd7,Qxd5#', 'https://lichess.org/training/3LGDB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3liIv', 'Rapid', 'EvenPowerfulArk', 1874, 'YosefImmanuel-MORADA', 1845, 'e4,c6,d4,d5,exd5,cxd5,c4,e6,Nc3,Bb4,Qa4+,Nc6,cxd5,Bxc3+,bxc3,exd5,Nf3,Qa5,Qxa5,Nxa5,Ba3,Nf6,Bd3,Be6,O-O,Rc8,Rfc1,Nc4,Bxc4,Rxc4,Ne5,Rc8,Bb4,b6,a4,Nd7,Nxd7,Kxd7,a5,Rc7,axb6,axb6,Ra6,Rc6,Rca1,Rhc8,Ra7+,R8c7,Kf1,Rxa7,Rxa7+,Rc7,Rxc7+,Kxc7,Ke2,Kc6,f3,Kb5,g4,Kc4,Ke3,g6,h4,h5,g5,b5,Kf4,Kd3,Ke5,Ke3,f4,Kf3,f5,gxf5,Ba3,Kg4,Be7,Kxh4', 'g6+,Kg4,g7', 'https://lichess.org/training/3liIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3lJtP', 'Rapid', 'Patanga', 1720, 'Voroshilov', 1765, 'd4,d6,e3,g6,b3,Bg7,Bb2,c5,c3,Nc6,a3,Qa5,Nd2,cxd4,b4,Qb6,cxd4,Nf6,Ngf3,O-O,Be2,Bg4,O-O,Qc7,Re1,h5,Rc1,Qb8,h3,d5,hxg4,Nxg4,g3,Bf6,e4,h4,Nxh4,Bxh4,Bxg4,Bxg3,fxg3,Qxg3+,Kh1,Kg7,Qf3,Rh8+,Bh3', 'Rxh3#', 'https://lichess.org/training/3lJtP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LK0D', 'Rapid', 'vahiidd', 1937, 'sanyo67', 2075, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,O-O,Ne2,c5,O-O,cxd4,cxd4,Nc6,Be3,Bg4,f3,Bc8,Rb1,a6,d5,Na5,Bb6,Qd6,Bd3,Bd7,Qd2,Bb5,Bxb5', 'Qxb6+,Kh1,axb5', 'https://lichess.org/training/3LK0D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3lk0z', 'Rapid', 'htmb', 1786, 'barszczu1980', 1709, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb3,Nxb3,axb3,Nxd5,d3,Be7,Nf3,f6,O-O,Bg4,Nc3,Nxc3,bxc3,O-O,Ra4,h5,h3,b5,Ra2,Be6,Nh4,Bf7,Be3,c5,Nf5,Bd6,Nxd6,Qxd6,Ra5,a6,f4,Rfe8,c4,Rab8,cxb5,Rxb5,Rxb5,axb5,c4,b4,g4,Be6,f5,Bf7,gxh5,Rd8,h6,Qxd3,Qxd3,Rxd3,Bxc5,Rxb3,hxg7,Kxg7,Rf2,Rb1+,Kh2,Bxc4,Rg2+,Kf7,Rg4,Rb2+,Kg3,Rb3+,Kh4,Bd3,Rg3,e4,Kh5,Rc3,Bxb4,Rc4,Bd2,Rc5,Be3,Rxf5+,Kg4,Rf3,Rxf3,exf3,Kxf3,Bg6,Kg4,Kg7,Bd4,Kf7,h4,f5+,Kg5,Bh7,h5,Ke6', 'Kh6,Bg8,Kg7', 'https://lichess.org/training/3lk0z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LKtQ', 'Rapid', 'Foucheval', 1889, 'burebista', 1729, 'c4,f6,Nc3,Kf7,g3,e6,Bg2,g6,Nf3,c6,O-O,Kg7,e4,Bd6,Re1,e5,d4,Bc7,d5,c5,Bh3,d6,Bxc8,Qxc8,Kg2,Ne7,Bd2,Nd7,Qc1,h6,h4,a6,Nh2,Qe8,Ng4,Ng8,Ne2,Qf7,Ng1,h5,Nh2,Rf8,Nh3,Bd8,a4,a5,Ra3,b6,Rf3,Qe8,Ree3,Rh7,Rb3,Nh6,Bxh6+,Rxh6,Rfd3,Rh7,Qe3,Kg8,f4,Rhf7,Nf3,Kg7,Rd2,Kg8,Re2,Rg7,Qd2,Qf7,Ne1,Re8,Nc2,Nb8,Ne3,Qd7,f5,Qxa4,Ra3,Qd7,fxg6,Rxg6,Nf5,Bc7,Ree3,Qf7,Qe2,Qh7,Rf3,Rf8,Nf2,Kh8,Kh2,Rfg8,Rad3,Nd7,Rb3,Rf8,Nd1,Rfg8,Nc3,Rg4,Re3,Qg6,Nb5,Bb8,Nbxd6,Bxd6,Nxd6,Rg7,Nf5,Rf7,Rf3,Rf8,Qe3,Kh7,Nd6,Rg8,Nf5,Rf8,Qf2,Rg8,Rbe3,Rf8,Ne7,Qg7,d6,Rf7,Rf5,Qh6,Ref3,Kg7,Rg5+,Rxg5,hxg5,Qxg5,Nf5+,Kf8,Rb3,Qg4,Rf3,Qxe4,Ne7,Qg4,Nd5,Qxc4,Nxf6,Nxf6,Rxf6,Ke8', 'd7+,Kxd7,Rxf7+', 'https://lichess.org/training/3LKtQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LlhM', 'Blitz', 'ahmedhilmy555', 2047, 'joaoFTB', 2043, 'd4,Nf6,g3,g6,Bg2,Bg7,Nf3,d5,c3,O-O,Nbd2,Nbd7,O-O,c5,Re1,cxd4,cxd4,Rb8,e4,Nxe4,Nxe4,dxe4,Rxe4,Nf6,Bf4,Nxe4,Bxb8,Bg4,Bf4,Qb6,Rb1,Bf5,Nh4,Nxf2,Kxf2,Bxb1,Qxb1,Bxd4+,Ke1,Bxb2,Qd3,Rd8,Qc4,Qg1+,Bf1,e5,Bh6,Bd4,Qc2,Bf2+', 'Qxf2,Rd1+,Ke2,Qxf2+,Kxf2', 'https://lichess.org/training/3LlhM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3lLVK', 'Rapid', 'sinergio', 1927, 'cavalierfou79', 1767, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,Bc4+,Be6,Bxe6+,Kxe6,Nc3,Kf7,d4,Be7,O-O,Rf8,f4,Kg8,Be3,Nbd7,Qe2,Nb6,Rad1,Qd7,e5,Nfd5,Nxd5,Nxd5,Qc4,c6,Bc1,Kh8,Qe2,Rae8,c4,Nc7,Qh5,Rd8,f5,dxe5,dxe5,Bc5+,Kh1,Rxf5,Qxf5,Qxd1,Be3,Be7', 'Rxd1,Rxd1+,Bg1', 'https://lichess.org/training/3lLVK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LMgQ', 'Rapid', 'muskelito', 1839, 'ulianov', 1839, 'Nf3,Nc6,e4,e5,g3,Bc5,Bg2,Nf6,d3,h6,O-O,O-O,Nbd2,d6,b3,Bg4,Bb2,a6,a3,Qd7,b4,Bb6,Nc4,Ba7,Qd2,Bh3,c3,Bxg2,Kxg2,Qg4,Ne3,Qd7,Nd5,Nxd5,exd5,Ne7,c4,Ng6,Rac1,f5,c5,dxc5,bxc5,Qxd5,Qc3,Rf7,Qc4,Qxc4,Rxc4,Re8,Re1,Rfe7,a4,c6,Rc2,Bb8,Rce2,Kh7,Nh4,Nxh4+,gxh4,g6,d4,e4,f3,h5,fxe4,fxe4,h3,Bf4,Rf1,Bc7,Bc1,Kg7,Bg5,Rf7,Rxf7+,Kxf7,Kf2,Kg7,Ke3,Kg8,Kd2,Ba5+,Kc2,Bb4,Kb3,a5,Kc4,Kf7,Rf2+,Kg7,Re2,Re6,Rf2,e3,Re2,Bd2,Kd3,Re8,Bxe3,Bxe3,Rxe3,Rxe3+,Kxe3,Kf7,Ke4,Ke6,Kf4', 'Kd5,Ke3,Kc4', 'https://lichess.org/training/3LMgQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LNia', 'Rapid', 'Gomorrah', 1984, 'handsomechuck', 1932, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Nbd2,Nf5,Nb3,cxd4,cxd4,Bb4+,Bd2,Qe7,Bd3,Bxd2+,Qxd2,O-O,O-O,Bd7,Nc5,Nfxd4,Nxd4,Nxd4,Bxh7+,Kxh7,Qxd4,Bb5,Rfe1,Rac8,Nd3,Rc4,Qxa7,Rfc8,Qe3,Rc2,Re2,d4,Qe4+,Kg8,f4,Qh4,Rd1,Qg4,Rdd2,Bxd3,Qxd3,Rc1+,Kf2,Qxf4+,Qf3,Qh4+,Qg3,Qxg3+,Kxg3,Rd8,Kf4,Rd5,Ke4,Rc4,Rd3,f5+,exf6,Rh5,g3,gxf6,Rxd4', 'Re5+,Kf3,Rxd4', 'https://lichess.org/training/3LNia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LP4r', 'Rapid', 'Lokyloma', 1831, 'Gabe1526', 1834, 'e4,c5,Nc3,g6,f4,Bg7,Nf3,d6,Bc4,Nc6,Bb5,Bd7,Bxc6,Bxc6,d3,Nf6,O-O,O-O,Qe1,Nd7,Nh4,Re8,f5,Nf6,fxg6,hxg6,Bg5,Qb6,Rb1,Rad8,Kh1,d5,e5,Ng4,e6,f6,Bd2,g5,Nf5,Nh6,Nxg7,Kxg7,Qg3,Rh8,h4,Nf5', 'Rxf5,Rxh4+,Kg1', 'https://lichess.org/training/3LP4r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LQLN', 'Rapid', 'stanley1809', 1896, 'carbello', 1846, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nf6,d3,d6,Be3,Bb6,Nc3,O-O,Qd2,Nd4,Ba4,Bg4,Ne1,Nd7,f3,Be6,Nd5,Bxd5,exd5,f5,c3,f4,Bf2,Nf5,Nc2,Qg5,Bxd7,Nh4,Bh3', 'Nxf3+,Kh1,Nxd2', 'https://lichess.org/training/3LQLN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3lR17', 'Rapid', 'SayChessClassical', 2074, 'Dkhalaf', 2075, 'd4,e5,dxe5,f5,exf6,Nxf6,Nc3,d5,Nf3,Bc5,Bg5,O-O,e3,c6,Bd3,Bg4,Qd2,Nbd7,h3,Bxf3,gxf3,d4,exd4,Bxd4,Bxh7+,Kxh7,Qxd4,Qe8+,Kf1,Qh5,Qh4,Qxh4,Bxh4,Ne5,f4,Nf3,Bg3,Nh5,Kg2,Nd4,Rac1,Nxf4+,Bxf4,Rxf4,Rhe1,Raf8,Nd1,Nf3,Re7,R8f6,Kg3,Ng5,c4,Rf3+,Kg2,Nxh3,Rc2,Ng5,Rxb7,R3f5,Rxa7,Nf3,Ne3,Rg5+,Kf1,Rg1+,Ke2,Nd4+,Kd3,Nxc2,Kxc2,Rxf2+,Kd3,Rg3,Re7,Rxb2,Kd4,Rxa2,Kc5,Re2,Nf5,Rg5,Rxe2,Rxf5+,Kxc6,g5,Rh2+,Kg6,c5,g4,Kd6,g3,Rg2,Rf3,c6,Kg5', 'c7,Rc3,Rxg3+,Rxg3,c8=Q', 'https://lichess.org/training/3lR17');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Lr9q', 'Rapid', 'mefistofel82', 1600, 'SavinovSergey', 1656, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Ne5,Bf4,Qf6,Qd2,h6,Nb5,Bd6,Nxd6+,cxd6,Nc3,Ne7,Be2,O-O,Nb5,d5,Nc7,Rb8,Nxd5,Nxd5,Bxe5,Qxe5,exd5,Qxb2,O-O,Re8,Bc4,b5,Bb3,Qf6,Rfe1,Bb7,Rad1,Rxe1+,Rxe1,a6,h3,d6,Qe3,a5,Qa7,Qd8,a3,a4,Ba2,Qc7,Rb1,Ra8,Qd4,Qxc2,Rb2,Qc5,Qxc5,dxc5,Rxb5,Ra7,Rxc5,Kf8,Rc3,Ra6,Rd3,Rd6,Rd4,Bc6,Kf1,Ke7,Ke2,f5,f4,Kf6,Kd3,Bb5+,Ke3,g5,g3,gxf4+,gxf4,Be8,h4,h5,Kd3,Bb5+,Kc3,Bd7,Kb4,Be8,Kc5,Rd8,Rb4,Ke7,Rb7+,Bd7,Bc4,Rc8+,Kd4,Kd6,Rb6+,Ke7,d6+,Kf6,Kd5', 'Be6+,Kd4,Rxc4+', 'https://lichess.org/training/3Lr9q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Ls86', 'Blitz', 'victorvargasvargas', 1812, 'El-Aprendiz', 1821, 'e4,c5,f4,d6,Nf3,Nc6,Bc4,e6,O-O,a6,c3,b5,Bb3,c4,Bc2,Bb7,d4,cxd3,Bxd3,Be7,a4,b4,Be3,Nf6,Qc2,e5,fxe5,dxe5,Nbd2,O-O,Nc4,Ng4,Bf2,Nxf2,Rxf2,Bc5,Nfxe5,Bxf2+,Qxf2,Nxe5,Nxe5,bxc3,bxc3,Qd6,Qf4,Qc5+,Kh1,Qxc3,Rf1,f6,Bc4+,Kh8', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/3Ls86');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LSST', 'Classical', 'wisefull81', 1615, 'FAMOUS01012009', 1624, 'c4,e5,d4,exd4,Bf4,Nc6,Nf3,Nf6,g3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,Bg2,Re8,O-O,d6,a4,Bd7,a5,a6,Rc1,Nxa5,b4,Nc6,b5,axb5,cxb5,Na7,Nxd4,Nxb5,Nxb5,Bxb5,Re1,c6,e4,d5,e5,Nd7,f4,Nb6,Bh3,Ba4,Qh5,Nc4,Nf3,b5,Ng5,h6,Qxf7+,Kh8,Ne6,Qe7,Ng5,hxg5,Qh5+,Kg8,Bf5,Kf8,e6,Qc5+,Kg2,Ke7', 'Qf7+,Kd6,Qd7#', 'https://lichess.org/training/3LSST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3luSz', 'Rapid', 'Lordvalster', 1666, 'XxLucasxX2005', 1641, 'c4,f5,e3,e6,Nc3,Nc6,Nf3,Nf6,d4,Bb4,Bd2,Bxc3,Bxc3,d6,c5,d5,Ne5,Nxe5,dxe5,Ne4,Bb4,a5,Ba3,O-O,Qb3,c6,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/3luSz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LWib', 'Blitz', 'esatb', 1519, 'BeginnerChess001', 1533, 'e4,e6,Nf3,c5,Bc4,Nc6,Nc3,Nf6,O-O,Be7,d3,d5,Bb3,c4,dxc4,dxc4,Bxc4,Qxd1,Rxd1,O-O,Bg5,a6,Ne2,b5,Bb3,Bb7,Nc3,b4,Ne2,Nxe4,Bxe7,Nxe7,Nfd4,Nf5,Nxf5,exf5,Re1,Nd2,Nd4,f4,Rad1,Nxb3,Nxb3,f3,g3,a5,Re3,a4,Nd4,Bc6,Nxf3,Bxf3,Rxf3,b3,cxb3,axb3,Rxb3,Rxa2,Rd4,Ra1+,Kg2,g6,Rdb4,Kg7,Re4,Rd1,Rbe3,Rb8,b3,Ra8,Rf3,Raa1,Ref4,Rg1+,Kh3,Ra2,Rxf7+,Kh6,b4,Rb2,R3f4,g5,Rf3,Rxb4,g4,Rbxg4', 'R3f6+,Kh5,Rxh7#', 'https://lichess.org/training/3LWib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Lxws', 'Blitz', 'ahmadjawad0', 1887, 'CM Brookway', 2401, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,Be2,Bd6,O-O,Nge7,c4,dxc4,Bxc4,O-O,Nc3,Bg4,Be2,Qd7,Bg5,f6,Be3,Rae8,d5,Bxf3,dxc6,Bxc6,a4,Nf5,Bb5,Nxe3,fxe3,Rxe3,Bxc6,Qxc6,Nd5,Re5,Nc3,Rfe8,Kh1,Bb4', 'Qb3+,R8e6,Qxb4', 'https://lichess.org/training/3Lxws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LXyA', 'Blitz', 'dercoyo', 1584, 'Maxenium2000', 1594, 'c4,e5,g3,Nc6,Bg2,Bc5,e3,Nge7,Ne2,a6,O-O,b5,cxb5,axb5,b3,Bb7,Nbc3,O-O,Nxb5,d6,d4,exd4,Nbxd4,Nxd4,Nxd4,Ba6,Re1,Nd5,Bxd5,Rb8,Nc6,Qf6,Nxb8,Rxb8,Rb1,Bb4,Bd2,Bc5,Bf3,Bd3,Rc1,Bb6,Be2,Be4,f3,Bb7,Bc3,Qg5,Bd4,Ba5,f4,Qg6,Bc3,Bb6,Qd3,Be4,Qd2,Bb7,Bd4,Qe4,Bg4,c5,Bc3', 'Qh1+,Kf2,Qg2#', 'https://lichess.org/training/3LXyA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3lyOl', 'Blitz', 'ExtDev666', 1933, 'Dirtydogs', 2031, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,a6,O-O,b5,Bb3,Na5,Bc2,Nc4,Bc1,Bb7,b3,Ne5,Be3,O-O,f4,N5g6,e5,Qh4,Nd2,Nd5,Bf2,Qxf4,N2f3,Ne3,Bxe3,Qxe3+,Kh1,f6,Re1,Qxc3,Rc1,fxe5,Bxg6,Qb2,Bxh7+,Kxh7,Qd3+,e4,Rxe4,Bxe4,Qxe4+,Kg8,Rxc5,Qa1+,Ng1,Rae8,Qd5+,Rf7,Rxc7', 'Qxg1+,Kxg1,Re1#', 'https://lichess.org/training/3lyOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3LzDz', 'Blitz', 'KonraD08', 1717, 'Mfundo_Mbewe', 1727, 'c4,e5,g3,Nc6,Bg2,Bc5,Nc3,Qf6,e3,Nh6,Nge2,d6,d4,Bb4,d5,Na5,a3,Bxc3+,bxc3,b6,O-O,Bg4,h3,Bd7,f4,Nxc4,fxe5,Qxe5,Bd2,Nxe3,Bxe3,Qxe3+,Kh1,O-O,Qc2,Bf5,Qb2,Rfe8,Rae1,Bd3,Nd4,Qxg3,Rxe8+,Rxe8,Rg1,Nf5,Nxf5,Bxf5,Qb5,Ra8,Qc6,Rc8,Qb7,Qxc3,Rf1,Bd7,Re1,a5', 'Qxc8+,Bxc8,Re8#', 'https://lichess.org/training/3LzDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3m1e8', 'Rapid', 'KrishnaKantS', 1950, 'Zagoll', 2051, 'e4,c5,Nf3,d6,c3,Nf6,Bc4,Nc6,d4,cxd4,cxd4,g6,O-O,Nxe4,Bd5,Nf6,Ng5,Nxd5,Qf3,Nf6,Nc3,Nxd4,Qf4,Ne6,Nxe6,Bxe6,Bd2,Nd5,Qa4+,Bd7,Qb3,Nxc3,Qxc3,e5,Rfe1,Rc8,Qg3,Bg7,Bg5,f6,Bd2,O-O,Rad1,f5,Bb4,f4,Qb3+,Kh8,Bxd6,Qg5,Bxf8,Bc6,Bxg7+,Kxg7,f3,Re8,Rd6,e4,Qc3+,Kh6,Rxc6', 'exf3,Qxf3,Rxe1+', 'https://lichess.org/training/3m1e8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3m2Cv', 'Blitz', 'clebergrazi', 1966, 'nathang', 2010, 'd4,d5,c4,e6,Nc3,c6,e3,Nf6,Qc2,Nbd7,Bd3,Bd6,Nf3,dxc4,Bxc4,O-O,Bd3,b5,a3,Bb7,b4,a5,Rb1,axb4,axb4,Nd5,Bd2,Nxb4,Bxh7+,Kh8,Qe4,f5,Qxe6,Kxh7,Qxd6,Nd5,Nxd5,cxd5,O-O,Ra2,Bb4,Rf6,Qf4,Nb6,Ng5+,Kg8,Ra1,Rxa1,Rxa1,Rg6,Nf3,Nc4,Ra7,Qb6,Qb8+,Kh7,Qxb7,Qe6,h3,Qe4,Bf8,Nd2,Nh4,Qxh4,Bxg7,Nf3+,Kh1', 'Qxh3+,gxh3,Rg1#', 'https://lichess.org/training/3m2Cv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3m2tY', 'Rapid', 'saksham_anvi', 1769, 'Shouryadip', 1681, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,d3,Bg4,h3,Bh5,Nbd2,Nf6,Qe1,Nd4,Nxd4,Bxd4,c3,Bb6,b4,h6,a4,a6,a5,Ba7,Ba3,O-O,b5,axb5,Bxb5,c6,Bc4,Re8,a6,b5,Bb3,Bb6,Bb2,Bc7,c4,bxc4,Bxc4,Rb8,Qc1,Bb6,Bc3,Bd4,Bxd4,exd4,Nb3,c5,Na5,Ra8,e5,dxe5,Nc6,Qc7,Bb5,Be2,Re1,Bxd3,Qxc5,Bxb5,Qxb5,Qd7,Qb7,Qxb7', 'axb7,Rxa1,Rxa1', 'https://lichess.org/training/3m2tY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3M37b', 'Rapid', 'Quasar74', 1706, 'Andrporf', 1723, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bf4,Bd6,Ne5,O-O,e3,a6,c5,Bc7,Bd3,b6,cxb6,Bxb6,O-O,Bb7,h3,Nbd7,Na4,Ba7,Rc1,Nxe5,Bxe5,Bb8,Bxf6,Qxf6,Nb6,e5,dxe5,Qxe5,f4', 'Qxe3+,Kh1,Qxb6', 'https://lichess.org/training/3M37b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3M7Ji', 'Blitz', 'A_Crowley', 1711, 'kojoroe', 1714, 'e4,e5,f4,d5,exd5,Qxd5,Nf3,Bg4,c4,Qe4+,Qe2,Bxf3,gxf3,Qxe2+,Bxe2,exf4,d4,Bd6,c5,Be7,Bxf4,Nf6,Bxc7,Nd5,Ba5,Bh4+,Kd2,Nc6,Bc3,Bg5+,Kc2,Ne3+,Kb3,a5,a4,O-O,Nd2,Rab8,Ne4,Bh6,Ng3,Rfd8,Nf5,Bg5,Nd6,Bf6,Nb5,Bxd4,Nxd4,Nxd4+,Bxd4,Rxd4,Rhg1,b5,Bxb5,Rb4+,Kc3,Nd5+,Kc2,Ne3+,Kc3,Rc8,c6,Nd5+,Kc2,Rf4,Raf1,Nb4+,Kb3,Re8,Rg4', 'Re3+,Bd3,Rxd3#', 'https://lichess.org/training/3M7Ji');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3M94a', 'Rapid', 'igoruchiha', 2078, 'Robson5065', 1870, 'c4,Nf6,Nf3,b6,g3,Bb7,Bg2,e6,O-O,Bd6,d4,Ne4,Nbd2,f5,e3,O-O,Nxe4,Bxe4,Nd2,Bxg2,Kxg2,Rf6,e4,Rg6,exf5,exf5,Qf3,Nc6,Qxf5,Nxd4,Qd5+,Ne6,Ne4,Be7,Be3,Kh8,Rad1,Bd6,Nxd6,cxd6,b3,Rc8,f4,Nc7,Qf7,Rf6,Qh5,Re6,Rfe1,Qe7,Kf2,Re8,Bd2,Qf6,Qf3,Qd4+,Be3,Rxe3,Rxd4', 'Rxf3+,Kxf3,Rxe1', 'https://lichess.org/training/3M94a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3M9uw', 'Rapid', 'albertmorse62', 1667, 'gunawangagah', 1707, 'd4,c5,e3,e6,c3,Nf6,Nf3,d5,Bb5+,Nc6,Qa4,Qc7,Ne5,Bd7,Nxd7,Nxd7,Bxc6,bxc6,O-O,Bd6,f4,c4,Rf3,O-O,Rg3,c5,Qc2,cxd4,cxd4,f5,Qe2,Nf6,Nc3,Ne4,Nxe4,dxe4,Qh5,Rf6,Bd2,Qf7,Qh4,Be7,Bc3,Rg6,Qh3,Kf8,Qxh7', 'Rh6,Qxg7+,Qxg7,Rxg7,Kxg7', 'https://lichess.org/training/3M9uw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3MaCU', 'Rapid', 'Takis_2200', 1765, 'Ghostzapper', 1826, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qe2,dxc6,Nc3,Ne7,Be3,Bb4,Bd2,Bc5,f3,Ng6,g3,Be6,O-O-O,O-O-O,Bg2,Rd7,f4,Re7,e5,Qf5,Be4,Qh3,Qf3,Bg4,Qd3,Bxd1', 'Bf5+,Qxf5,Qxf5+', 'https://lichess.org/training/3MaCU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3mAd7', 'Classical', 'valeri1942', 1978, 'WuffitheBoss', 1980, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Qe2,Be7,Nc3,O-O,O-O,h6,Be3,Bb7,Rad1,d5,exd5,cxd5,Nxd5,Nxd5,Bxd5,Bxd5,c4,Bxc4,Rxd8', 'Bxe2,Rxa8,Rxa8', 'https://lichess.org/training/3mAd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3mBiS', 'Rapid', 'SeanEscobar', 1829, 'Docdoom', 1797, 'd4,f5,c4,Nf6,Bd2,g6,g3,Bg7,Nc3,Nc6,Nf3,b6,d5,Na5,e3,O-O,Nb5,Nb7,h4,Nc5,Bc3,a6,Bxf6,Bxf6,Nbd4,h5,b4,Ne4,a4,Bb7,a5,c5,dxc6,Bxc6,axb6,Qxb6,Qb3,Nc5,Qa3,Bxd4,exd4,Bxf3,Qxf3,Qxb4+,Ke2,Qxc4+,Ke1,Qb4+,Ke2,Qb2+,Ke3,Qxa1', 'Bc4+,Kg7,Rxa1', 'https://lichess.org/training/3mBiS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3MBWf', 'Rapid', 'Marmatas', 1627, 'cowcium', 1604, 'd4,d5,c4,e6,a3,Nf6,Nc3,Be7,h3,a5,e3,c5,Nf3,Nc6,Bd2,cxd4,exd4,O-O,c5,Ne4,Bd3,Nxd2,Qxd2,f5,O-O,b6,Na4,bxc5,Nxc5,Qb6,Rfc1,Bf6,Qe2,Nxd4,Nxd4,Bxd4,Nxe6,Bxe6,Rab1,f4,Rc2,Rae8,Qf3,Qb3', 'Bxh7+,Kxh7,Qxb3', 'https://lichess.org/training/3MBWf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3mCb3', 'Classical', 'TAPAC-ko', 1753, 'Lorenzo_2012', 1658, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Bb4,Bg5,Bxc3+,bxc3,O-O,e5,h6,Bxf6,gxf6,exf6,Qxf6,Qd3,Re8+,Be2,d5,O-O,Bf5,Qd2,Qg6,Rfe1,Bxc2,Ba6,Rxe1+,Rxe1,Be4,g3,Qh5,Bb7,Qh3', 'Rxe4,dxe4,Bxa8', 'https://lichess.org/training/3mCb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3mexF', 'Rapid', 'R0BOT', 1667, 'yukyuk', 1728, 'c4,c5,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d3,Nc6,Bd2,Ne4,dxe4,Bxb2,Bc3,Bxa1,Bxa1,d6,Nc3,a6,Qd2,Be6,Nd5,b5,cxb5,axb5,Qb2,f6,Qxb5,Nb4,Nxb4,cxb4,Qxb4,Rxa2,Nd4,Bf7,Nc6,Qd7,e5,fxe5,Rd1,Qc7,Qh4,Re8,Bf3,Kg7,Qe4,Rea8,Bc3,R8a4,Qb1,Be6,Qc1,Bc4,Bd5,Bxd5,Rxd5,Rc4', 'Bxe5+,dxe5,Qxc4,Ra1+,Kg2', 'https://lichess.org/training/3mexF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3mfP6', 'Blitz', 'KingsRookie', 1574, 'Sebababarriga', 1558, 'd4,d5,Nc3,Bf5,Bf4,e6,f3,c5,h4,Nc6,g4,cxd4,Nb5,Qa5+,Kf2,Qxb5,gxf5,Qxb2,Rb1,Qxa2,Rxb7,Nf6,fxe6,fxe6,Qd3,Be7,Qb5,Rc8,Rb8,O-O', 'Rxc8,Rxc8,Qb7,Rf8,Qxc6', 'https://lichess.org/training/3mfP6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3MhTJ', 'Blitz', 'CM KingRAZOR', 2296, 'Mvuche', 2091, 'e4,e6,d4,c5,d5,Nf6,d6,e5,Nc3,Qb6,Bg5,Qxd6,Bxf6,Qxf6,Nd5,Qc6,Bb5,Qd6,Nf3,a6,Be2,b5,a4,Bb7,axb5,axb5,Rxa8,Bxa8,Bxb5,Bxd5,Qxd5,Qxd5,exd5,Ke7,Nxe5,f6,d6+,Ke6,Nc4,Bxd6,O-O,Be5,Re1,d5,f4,dxc4,Bxc4+,Kd6,fxe5+,fxe5,Rd1+,Kc6,Bd5+,Kc7,Be4,Nd7,Bf5,Nf6,g4,g6,g5,gxf5,gxf6,Rf8,Rd5,Rxf6,Rxc5+,Kd6,Ra5,Kd7,Ra7+,Ke6,Rxh7,e4,Kf2,Ke5,Ra7,Rd6,Ke2,Kf4,b4,Rh6,Kd2,Rxh2+,Kc3,e3,Re7,e2,b5,Kf3,b6,Rh6,b7,Rb6,Kd2,f4,c4,Rb2+,Kc3', 'Rxb7,Rxb7,e1=Q+', 'https://lichess.org/training/3MhTJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3MJCY', 'Rapid', 'Trosdl', 1910, 'nur_nss', 1905, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,Nc3,a6,Ba4,Bg4,h3,Bxf3,Qxf3,e6,O-O,Rc8,d3,b5,Bb3,Nf6,Bg5,Be7,Rfe1,O-O,Ne2,Ne5,Qg3,Nfd7,Bxe7,Qxe7,Nf4,Ng6,Nxg6,fxg6,Bxd5,Qf6,Rxe6,Qxb2,Rae1,Kh8,Rxa6,Rxc2,Ra8,Qf6,f3', 'Qd4+,Kh1,Qxd5,Rxf8+,Nxf8', 'https://lichess.org/training/3MJCY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3MjDR', 'Rapid', 'jypejpm', 1831, 'BigDogue', 1876, 'b3,e5,Bb2,e4,Nc3,d5,e3,Nf6,d3,exd3,cxd3,c6,Nf3,Be7,e4,O-O,exd5,Nxd5,Be2,Bf6,Rc1,Re8,Rc2,Nf4,O-O,Bf5,Rd2,Nxe2+,Nxe2,Bg4,Ne1,Bxe2,Rxe2,Rxe2,Qxe2,Bxb2,Qxb2,Nd7,Nf3,Nc5,Qc3,b6,Rd1,Rc8,h3,h6,Qc4,Ne6,Ne5,c5,g3,Qg5,Re1,Rd8', 'Nxf7,Kxf7,Qxe6+', 'https://lichess.org/training/3MjDR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3MmFJ', 'Rapid', 'Jeronovan', 1665, 'corpodus', 1709, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,Nf6,h3,Bh5,O-O,Nbd7,a3,e6,b4,Bxb4,Bb2,Bd6,Re1,c6,d4,Qc7,Qd3,Bg6,Qd2,Bf4,Qd1,O-O-O,Bd3,Qb6,Na4,Qa5,Nc3,Nb6,Bxg6,hxg6,Qd3,Nbd5,Ne2,Qb6,Bc3,Nxc3,Qxc3,Nd5,Qd3,Bh6,c4,Nf4,Nxf4,Bxf4,c5,Qc7,a4,Qa5,Qc4,Bd2,Re2,Bc3,Rb1,Rd5,Re3,Bd2,Reb3,Rd7,Ne5,Rc7,Nxc6,Rxc6,Rxb7,Rd8,R1b5,Qc3,Rb8+,Kd7,R5b7+,Rc7', 'Qb5+,Ke7,Rxc7+', 'https://lichess.org/training/3MmFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3MNRX', 'Rapid', 'Kafaron', 1724, 'Vbmohsen88', 1745, 'd4,d5,c4,dxc4,b3,cxb3,Qxb3,e6,e4,h6,Nf3,Nc6,Bb5,Bd7,d5,exd5,Qxd5,Nf6,Qb3,Nxe4,O-O,Be7,Bxc6,Bxc6,Ne5,O-O,Nxc6,bxc6,Qf3,Nf6,Nc3,Nh7,Qxc6,Bf6,Ba3,Re8,Rad1,Qc8,Ne4,Re6,Qc4,Rb8,Bc5,Qb7,Nxf6+,Nxf6,Qh4,Nh7,Rd8+,Rxd8,Qxd8+,Nf8,Qxf8+,Kh7,Qd8,Rg6,f3,Qb2,g4,Qxa2,Qxc7,h5,h3,hxg4,fxg4,Qb3,Kg2,a5,Qf4,Qd5+,Qf3,Qxc5,Qxf7,a4,Rf5,Qc2+,Kg3,a3', 'Rh5+,Rh6,Rxh6+,Kxh6,Qh5#', 'https://lichess.org/training/3MNRX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3MtVp', 'Rapid', 'Oderfla', 1677, 'AlexBuria', 1665, 'e4,c5,c3,e6,d4,Nc6,d5,exd5,exd5,Ne5,Qe2,Qe7,Nf3,Nxf3+,gxf3,Qxe2+,Bxe2,Nf6,Bc4,Be7,Na3,a6,Be3,b5,Bd3,c4,Be4,Bxa3,bxa3,O-O,O-O,d6,Bd4,Bh3,Rfe1,Nxe4,Rxe4,Rae8,Rh4,Bf5,Rf4,g6,h4,h5,Kh2,f6,Kg3,g5,hxg5', 'fxg5,Rxf5,Rxf5', 'https://lichess.org/training/3MtVp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3MwBI', 'Classical', 'OldLove', 2272, 'Seriosha', 2435, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nbd7,g4,b5,a3,Rb8,Bh4,h6,Bg3,g5,h4,gxf4,Bxf4,e5,Nf5,exf4,Nxe7,Kxe7,g5,hxg5,hxg5,Rxh1,Qxh1,Qc5,e5,dxe5,Qh8,Ne8,Nd5+,Kd8,Bh3,Qf8,Qh4,Rb7,Be6,fxe6', 'g6+,Ndf6,Nxf6+,Kc7,Nxe8+', 'https://lichess.org/training/3MwBI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3mx1t', 'Blitz', 'danyyuswanto', 1625, 'chirola009', 1630, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e6,Nf3,Bb4,Bxc4,Nxe4,Bd2,Nxd2,Qxd2,O-O,O-O,Nc6,Rac1,e5,d5,e4,Nd4,Nxd4,Qxd4,Re8,Nxe4,b6,Qd3,Re7,Ng5,g6,a3,Bd6,f4,Bf5,Qc3,Bc5+,Kh1,h6,b4,Be3,Qf6,Bxc1,d6,cxd6', 'Bxf7+,Rxf7,Qxf7+,Kh8,Qh7#', 'https://lichess.org/training/3mx1t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3MZfg', 'Rapid', 'NormanHakwa', 1717, 'Ace29', 1838, 'e3,e5,a3,c5,Nc3,Nf6,Bc4,Be7,h3,O-O,Nf3,d5,Bb5,a6,Be2,d4,Na4,b5,Nxc5,Bxc5,Nxe5,Bb7,O-O,dxe3,dxe3,Qe7,f4,Rd8,Qe1,Nd5,Bh5,f6,Bf7+,Kh8', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/3MZfg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3N1aa', 'Rapid', 'Raswanth077', 1802, 'Monastier', 1808, 'd4,e6,c4,b6,e4,Bb7,Nc3,Bb4,f3,Ne7,Ne2,O-O,Qb3,Bxc3+,Nxc3,Nbc6,d5,Na5,Qc2,Ba6,b4,Nxc4,b5,Bxb5,Nxb5,Na5,h4,c6,Nd6,cxd5,Ba3,Nac6,g4,dxe4,fxe4,a6,h5,b5,g5', 'Qa5+,Qd2,Qxa3', 'https://lichess.org/training/3N1aa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3n4Kq', 'Blitz', 'lavictoriavenezuela', 2332, 'FM Sentidocomon', 2398, 'd4,d5,e3,Nf6,c4,e6,Nc3,a6,a3,dxc4,Bxc4,b5,Ba2,Bb7,Nf3,Nbd7,O-O,Bd6,b4,O-O,Bb2,e5,d5,e4,Nd4,Nb6,Nf5,Be5,Ng3,Nbxd5,Nxd5,Bxb2,Rb1,Be5,Nf5,Nxd5,Bxd5,Bxd5,Qxd5,Re8,Rfd1,g6', 'Nh6+,Kg7,Qxf7+,Kxh6,Rxd8', 'https://lichess.org/training/3n4Kq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3n4uX', 'Rapid', 'WilfriedBurundi', 1975, 'brmchess', 1916, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,h3,Bd7,O-O,Nge7,c3,Ng6,d4,Be7,Be3,O-O,Re1,f5,exf5,Bxf5,Bxc6,bxc6,dxe5,Be4,exd6,Bxd6,Ng5,Bf5,Nd2,h6,Ngf3,Bd3,Qb3+,Kh8,Qe6,Rf6,Qg4,Bf5,Qc4,Bd7,Bd4,Rf8,Ne4,Bf4,Nc5,Bf5,Rad1,Bd6,Nb7,Qd7,Nxd6,cxd6,a4,Bxh3,gxh3,Rxf3,Re3,Raf8,Rxf3,Rxf3,Re1,Qxh3,Qxc6,Nf4', 'Re8+,Kh7,Qe4+', 'https://lichess.org/training/3n4uX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3N52Q', 'Bullet', 'DeNooseDaniel', 2083, 'Rafael15', 2059, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,Nxe4,d5,Nb8,Nxe5,Bc5,Be3,Bxe3,fxe3,Qh4+,g3,Nxg3,Nf3,Qh6,Rg1,Qxe3+,Be2,Nxe2,Qxe2,Qxe2+,Kxe2,O-O,Nbd2,d6,Kd3,Bf5+,Kd4,Nd7,Nh4,Bg6,Nxg6,hxg6,Raf1,Rae8,h4,Re2,Nf3,Rxb2,h5,gxh5,Nh4,Rxa2,Rf5,Ra4+,c4,Ne5,Rxh5,Rxc4+,Ke3,Rg4,Rh1,Re8', 'Rh8+,Kxh8,Ng6+,Kg8,Rh8#', 'https://lichess.org/training/3N52Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3n7ag', 'Classical', 'Okutann', 1902, 'RostovVelikij76', 1823, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,c3,Bg4,Be2,e6,O-O,Rc8,Bf4,Qb6,Qd2,Bf5,Nh4,Bg6,Nxg6,hxg6,Re1,Nf6,b3,Ne4,Qd3,Be7,f3,Nd6,Be3,Nf5,Nd2,Bd6,f4,g5,Nf3,Nxe3,Qxe3,Bxf4,Qf2,g4,g3,gxf3,Bxf3,Bg5,Bxd5,Ne7,Bc4,Nf5,Qxf5,Bd2,Bxe6,Rc7,Bxf7+,Kd8,Re6,Rc6,Rxc6,Qxc6,Qd5+,Qxd5,Bxd5,Bxc3,Rd1,b6,Rd3,Bb4,Bc4,Rf8,d5,Bc5+,Kg2,Rf2+,Kh3,Rxa2,Rf3,Bg1,Rf7,Rxh2+,Kg4,Bd4,Rxa7,b5,Ra8+,Kc7,Bxb5,Rg2,Kh3,Rg1,Kh2,Bf2,Rg8,Rxg3,Bc4,Rg6,Rf8,Bg3+,Kh3,Bd6,Rf7+,Kb6,Kh4,Rg3,Rd7,g5+,Kh5,Bf4,Rg7,Rh3+,Kg4,Rh4+,Kf3,Bd2,Rg6+,Kc7,Kg3,Be1+,Kg2,g4,Bd3,g3,Rc6+,Kd8,Rc1,Rh2+,Kg1', 'Bf2+,Kf1,Rh1+,Kg2,Rxc1', 'https://lichess.org/training/3n7ag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3N7jM', 'Rapid', 'Revaz777', 1764, 'slawekz', 1781, 'd4,e6,e4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Nge7,Nc3,Nf5,Rd1,O-O,O-O,h6,h3,Bd7,a3,a5,Rfe1,Qb3,Bb5,Rfd8,Bxc6,bxc6,Re3,Nxe3,fxe3,Rab8,Rb1,Rdc8,Ne1,c5,Nd3,c4,Nc5,Rxc5,dxc5,Rc8,Qd4,Qc2,Kh2,Rb8,Qd1,Rxb2,Qxc2,Rxc2,Nd1,Ba4,Kg1,Ra2,Nc3,Rxa3,Nxa4,Rxa4,c6,c3,c7,Rc4,Rb8+,Kh7,c8=Q,c2,Qh8+,Kg6,Rg8,c1=Q+,Kh2,Qxe3,Rxg7+,Kh5,Rg3,Qf4,Qg7,Rc3', 'Qg4+,Qxg4,hxg4+,Kg6,Rxc3', 'https://lichess.org/training/3N7jM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3naVc', 'Rapid', 'zvf1947', 1870, 'arsto15', 1796, 'f4,d5,e3,Nc6,b3,Nf6,Bb2,e5,fxe5,Nxe5,Bxe5,Bd6,Bxd6,Qxd6,Nf3,Bg4,Be2,O-O,O-O,Rfe8,Nd4,Bxe2,Nxe2,c5,Nbc3,d4,Nb5,Qc6,a4,a6,Na3,dxe3,dxe3,Rad8,Qc1,Ng4,Ng3,Nxe3,Rf2,Rd1+,Qxd1,Nxd1,Rxd1,b5,Rdf1,f6,c4,b4,Nc2,Qd6,Ne1,Qd4,Nf3,Qc3,Nf5,Qxb3,Rd2,g6,Nh6+,Kg7,Ng4,Qxc4,Rd7+,Kg8,Nxf6+,Kf8,Rfd1,Qc3,Nxh7+,Kg8,Nfg5', 'Re1+,Kf2,Qe3#', 'https://lichess.org/training/3naVc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3NEtp', 'Rapid', 'lakimalaza', 1638, 'Pireanth', 1723, 'e4,c5,Nf3,d6,c3,Nf6,d3,Nc6,Be3,g6,Be2,Bg7,Nbd2,O-O,Nb3,a5,Nbd2,a4,a3,Bd7,d4,cxd4,cxd4,Ng4,Bf4,h5,h3,Nh6,Be3,f5,exf5,Nxf5,Bg5,Ncxd4,Bd3,Nxf3+,Nxf3,Bxb2,Rb1,Qa5+,Nd2,Bxa3,O-O,Qd5', 'Bc4,Qxc4,Nxc4', 'https://lichess.org/training/3NEtp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3NfcC', 'Blitz', 'Horween', 2331, 'tahirpk', 2307, 'g3,d5,Bg2,e6,f3,Be7,Nh3,Nf6,Nf2,O-O,O-O,a6,d3,b6,Nc3,Bb7,e4,Nbd7,f4,c5,e5,Ne8,Ne2,Qc7,g4,d4,Ne4,f5,gxf5,Rxf5,N2g3,Rf8,Qg4,Nxe5,Qxe6+,Nf7,Nf5,Bf6,Ng5,Bxg2,Kxg2,Nd6,Bd2,Nxf5,Qxf5,Nxg5,fxg5,Be5,Qe6+,Kh8,g6,hxg6,Qxg6,Qb7+,Kg1,Qe7,Rae1,Rxf1+,Rxf1,Rf8', 'Rxf8+,Qxf8,Qh5+,Kg8,Qxe5', 'https://lichess.org/training/3NfcC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3NG6R', 'Blitz', 'crazy_but_lazyy', 2575, 'NM fourqueens13', 2476, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Nc6,e3,Nf6,Nc3,a6,Bd3,Bg4,Nge2,e6,O-O,Bd6,f3,Bh5,Rc1,O-O,Na4,Bg6,Bxg6,hxg6,a3,Rc8,Nc5,Rc7,b4,Nb8,Qd3,Bxf4,Nxf4,Qc8,Qb1,b6,Ncd3,Rc4,Ne5,Rc3,Qb2,Rxc1,Rxc1,Qb7,Nfd3,Rc8,Kf2,Ne8,a4,Nd6,Rxc8+,Qxc8,a5,Nc4,Qc3,b5,Nc5,g5,g4,f6,Nxc4,dxc4,Qc2,Kf7,Qe4,Nc6,d5,exd5,Qxd5+,Kf8,Ne6+,Ke7,Nxg7,Nxb4', 'Nf5+,Qxf5,Qxf5', 'https://lichess.org/training/3NG6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3NhbI', 'Rapid', 'Ganic2017', 1801, 'marati', 1925, 'e4,e6,d4,d5,e5,c5,Be3,cxd4,Bxd4,Nc6,Bb5,Bd7,Bxc6,bxc6,Nf3,c5,Be3,Bb5,Nc3,Ba6,Ne2,Ne7,c3,Ng6,Qa4+,Qd7,Qxa6,Be7,a4,O-O,Qb5,Qc7,Qd3,Rab8,Rb1,Nxe5,Nxe5,Qxe5,Bf4,Qh5,Bxb8,Rxb8,O-O,c4,Qe3,Bd6,Ng3,Qg6,f4,Qc2,Rfc1,Qxa4,Ra1,Qb5,Qxa7', 'Bc5+,Qxc5,Qxc5+', 'https://lichess.org/training/3NhbI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3nkLT', 'Rapid', 'DeLorry', 1669, 'montazerish', 1667, 'b3,d5,Bb2,Nc6,e3,e6,Bb5,Bd7,Bxc6,Bxc6,f3,Nf6,c4,dxc4,bxc4,Be7,Ne2,O-O,O-O,Qd7,d4,a6,Qe1,b5,Nd2,b4,Qg3,a5,Ne4,Nxe4,fxe4,Bxe4,d5,g6', 'Qe5,f6,Qxe4', 'https://lichess.org/training/3nkLT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3NKMI', 'Blitz', 'IM MI-DTB', 2310, 'Al_BundyZG', 2176, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,Nbd7,e3,Be7,Bd3,O-O,Nf3,Re8,O-O,Nf8,Qc2,c6,Rab1,a5,Na4,Bg4,Ne5,Bh5,Nc5,Bxc5,Qxc5,N6d7,Nxd7,Nxd7,Bxh7+', 'Kxh7,Qc2+,Bg6', 'https://lichess.org/training/3NKMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3NkSz', 'Classical', 'mahdyar2016', 1690, 'Hauser878', 1675, 'e4,c6,d4,d5,e5,Bf5,h3,e6,g4,Bg6,h4,h6,Bd3,Bxd3,Qxd3,Nd7,f4,Ne7,Nf3,f5,g5,h5,Bd2,Ng6,c4,Rc8,cxd5,cxd5,Nc3,a6,a3,Nb6,Qc2,Nc4,b3,Nxd2,Qxd2,Qa5,b4', 'Bxb4,axb4,Qxa1+', 'https://lichess.org/training/3NkSz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3nL7u', 'Classical', 'pornstars', 1640, 'WalkingChess19', 1634, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,f6,Be3,fxe5,dxc5,e4,Nd4,Nf6,Bb5,Bd7,b4,a6,Bxc6,bxc6,f4,a5,a3,Be7,Nd2,a4,Nf1,O-O,g4,h6,g5,hxg5,fxg5,Nh7,h4,e5,Qh5,exd4,Bxd4,Qe8', 'g6,Nf6,Bxf6,Qxg6,Qxg6', 'https://lichess.org/training/3nL7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3nN5o', 'Blitz', 'joaquinaarvelom', 1837, 'xadrezdapraia2', 1869, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nf3,Bg4,Be2,Bxf3,Bxf3,e6,Nd2,cxd4,exd4,Bd6,Bxd6,Qxd6,O-O,Qf4,Re1,h5,h3,g5,g3,Qf5,Bg2,g4,h4,O-O-O,a4,Rhe8,a5,a6,b4,e5,b5,axb5,a6,exd4,axb7+,Kxb7,cxd4,Nxd4,Rxe8,Rxe8,Nb3,Nf3+,Bxf3,gxf3,Nd4,Qe4,Nxf3,Ng4,Rb1,Kb6,Qb3,Qc4,Qb2,Re2,Qd4+,Qxd4,Nxd4,Rxf2,Rxb5+,Kc7,Rxd5,Rb2,Rf5,f6,Ne6+,Kd7,Nf4', 'Rb1+,Kg2,Ne3+,Kf2,Nxf5', 'https://lichess.org/training/3nN5o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3nNoM', 'Classical', 'Alaapkpok', 1791, 'buugii1', 1857, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,e6,Bd2,Qb6,Bb5+,c6,Bc4,Qxd4,Bd3,Bc5,Be3,Qe5', 'Nf3,Qc7,Bxc5', 'https://lichess.org/training/3nNoM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3NNve', 'Blitz', 'FM DanMos', 2608, 'FM mostmodest', 2443, 'd4,d5,c4,e6,Nc3,Be7,Nf3,Nf6,Bf4,O-O,e3,b6,cxd5,Nxd5,Nxd5,exd5,Bd3,Ba6,O-O,Bxd3,Qxd3,Bd6,Rac1,Bxf4,exf4,Qd6,g3,Nd7,Ne5,f6,Rc6', 'Nxe5,Rxd6,Nxd3', 'https://lichess.org/training/3NNve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3nNVj', 'Rapid', 'minoumed31', 1687, 'mehmet9527', 1735, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5c3,Nf6,Bd3,Be7,O-O,Be6,Nd5,O-O,Be3,Ng4,Bb6,Qd7,h3,Nh6,Nbc3,Bf6,Nxf6+,gxf6,Be3,Kh8,Bxh6,Rg8,Kh2,Rg6,Qh5,Rag8,g4,Nd4,f3,Qc6,Nd5,Bxd5,exd5,Qe8,Bxg6,fxg6,Qh4,g5,Qh5,Qe7,h4,e4,Rae1,Qe5+,f4,gxf4,Qxe5,fxe5,Rxe4,Rxg4,Kh3,Rg3+,Kh2,Nf3+,Rxf3,Rxf3,Re2,Kg8,Rg2+,Kf7,Rg7+,Kf6,Rxh7,Rf2+,Kh3,Rxb2,a4,Rb4,Bg5+,Kf5,Rf7+,Ke4,Re7,Rxc4,Rxb7,Rxa4,Rb6,Kxd5,h5,Ra3+,Kg2', 'Rg3+,Kf2,Rxg5', 'https://lichess.org/training/3nNVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3NqY4', 'Rapid', 'RovsenUmudov', 1702, 'GustavoSchulte', 1688, 'e4,e5,Nc3,Nc6,g3,Nf6,Bg2,Bc5,b3,d6,Bb2,Ng4,Nh3,Nf6,O-O,Bxh3,Bxh3,h5,Bg2,g5,Ne2,h4,d4,exd4,Nxd4,hxg3,Nxc6,gxf2+,Rxf2,Bxf2+,Kxf2,bxc6,Qf3,Rh6,e5,Nd5,c4,Nf4,Qxc6+,Kf8,exd6,Rxd6,Ba3,Nd3+,Kg1,Kg7,Qxa8,Qf6,Rf1,Qd4+,Kh1,Nf2+,Kg1', 'Nh3+,Kh1,Qg1+,Rxg1,Nf2#', 'https://lichess.org/training/3NqY4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3NrFH', 'Rapid', 'yamani92', 1661, 'Onerd', 1639, 'e4,e5,Nf3,d6,Bc4,h6,a3,a6,d4,Nd7,dxe5,Nxe5,Nxe5,dxe5,Qf3,Nf6,O-O,Qd4,Bd3,Bd7,Nc3,Be7,Be3,Qd6,Qg3,Bc6,Qxg7,O-O-O,Nd5,Nh5,Qxf7,Bxd5,exd5,Nf4,Be4,Kb8,g3,Ne2+,Kh1,Rdf8,Qh5,Nf4,gxf4,exf4,Bd4,Rhg8,Rg1,Bg5,c4,Qe7,b4', 'Qxe4+,f3,Qxd4', 'https://lichess.org/training/3NrFH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Nrgi', 'Rapid', 'LALITSAKPAL', 1680, 'illini', 1736, 'e4,c5,Nf3,Nf6,d3,d6,Be3,Qb6,Qc1,Qb4+,c3,Qb6,Qd2,e5,Be2,Ng4,h3,Nxe3,fxe3,Qd8,Na3,a6,d4,cxd4,exd4,f6,Qe3,Be7,O-O-O,d5,exd5,Qxd5,c4,Qa5,Rd3,O-O,g4,Bxa3,Rxa3,Qc7,Kb1,Nc6,d5,Nb4,Rc3,Rd8,Nh4,a5,Nf5,Bxf5+,gxf5,Qd7,a3,Na6,Bd3,Nc7,Rg1,b5,Qe4,bxc4,Bxc4,Nxd5,Bxd5+,Qxd5,Qg4,Ra7,h4,Qd7,h5,h6,Qg6,Qe7,Qxh6,Rad7,Rcc1,Rc7,Rxc7,Qxc7,Qxf6', 'Rd1+,Rxd1,gxf6', 'https://lichess.org/training/3Nrgi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3nRvU', 'Rapid', 'Qianzhenguo', 1923, 'ccht5455', 1975, 'd4,d5,Nf3,c6,c4,e6,e3,dxc4,Bxc4,Nf6,Nc3,Be7,O-O,O-O,a4,Bd7,Ne5,Bd6,Qb3,Qc7,f4,Nd5,Bd2,f6,Nxd7,Nxd7,e4,Nxf4,Bxf4,Bxf4,Bxe6+,Kh8,Bxd7,Be3+,Kh1,Qxd7,Ne2,Bg5,g3,Rae8,Qf3,Qe6,Nc3,Bd2,e5,Bxc3,bxc3,Qb3,Rfb1,Qc2,Rxb7,fxe5,Rf7,Kg8,Rxf8+,Rxf8,Qxc6,exd4,Qd5+,Kh8,Qxd4,Qb2,Rd1,h6,c4', 'Rf1+,Rxf1,Qxd4', 'https://lichess.org/training/3nRvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3nsb0', 'Classical', 'disconect', 1778, 'Vitalii1975', 1815, 'd4,d5,c4,dxc4,Nc3,Nf6,e3,Bf5,Bxc4,e6,Qb3,b6,Nf3,Bd6,Be2,O-O,O-O,Nc6,Nh4,Bg4,f3,Bh5,g3,Ne7,e4,e5,dxe5,Bxe5,Rd1,Qc8,Bg5,Ng6,Nxg6,Bxg6,Nd5,Nxd5,Rxd5,Bd6,Rc1,Kh8', 'Rxd6,cxd6,Rxc8', 'https://lichess.org/training/3nsb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3nSRk', 'Blitz', 'AleksanderBerge', 1785, 'Pirou8', 1786, 'e4,e6,Nf3,Nc6,Bc4,Nf6,c3,d5,exd5,Nxd5,O-O,Bd6,Qb3,O-O,d4,Nb6,Bd3,Na5,Qc2,Nc6,Bxh7+,Kh8,Bd3,e5,dxe5,Nxe5,Be4,Nxf3+,Bxf3,Qf6,Be3,Qh4,g3,Bxg3,fxg3,Qf6,Be4,Qe6,Qg2,c6,Bf5,Qxe3+,Kh1,Qh6,Bxc8,Raxc8,Na3,Nd5,Rae1', 'Ne3,Qd2,Nxf1,Qxh6+,gxh6', 'https://lichess.org/training/3nSRk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3nST7', 'Blitz', 'peymit', 1541, 'NYSKY', 1584, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,Bd7,O-O,e6,Nc3,Nf6,e5,dxe5,fxe5,Nd5,Nxd5,exd5,Bxd5,Be7,Bxf7+,Kxf7,Ng5+,Ke8,e6,Bc8,Qf3,Ne5,Qf5,Bd6,d3,Rf8,Nf7,Nxf7', 'exf7+,Rxf7,Qxf7#', 'https://lichess.org/training/3nST7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Nt2Q', 'Blitz', 'NickSkinner', 1635, 'JordanFury', 2076, 'd4,d5,Nf3,Nf6,Bg5,Ne4,Bh4,Bf5,Nbd2,c6,e3,Nd7,Nxe4,Bxe4,Nd2,Qa5,c3,Bg6,Nb3,Qb6,Bd3,e5,Bxg6,hxg6,Bg3,exd4,exd4,Be7,Qe2,O-O,O-O-O,Bg5+,Kb1,a5,f4,a4,Nd2,Bf6,h4,c5,Nf3,Rfe8,Qc2,a3,b3,Re4,h5,Rae8,Rd2,cxd4,Nxd4,g5,Bf2,Qd6,Nb5,Qxf4,Nxa3,Rc8,Nb5,Rb4,Nd4,Bxd4,Bxd4,Nf6,Bxf6,Qxf6,Rd3,Rf4,Rhd1,Rf2,R1d2,Rf1+,Kb2,Ra8,Rxd5', 'Rxa2+,Kxa2,Qa6+,Ra5,Qxa5+,Kb2,Qa1#', 'https://lichess.org/training/3Nt2Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ntiz', 'Blitz', 'k0mbat', 1847, 'jacopojle', 1896, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Be7,O-O,Nf6,e5,Ne4,d3,Bc5+,d4,Bb6,Bxf4,O-O,Bd3,Nxd4,Bxe4,Nxf3+,Kh1,Nd4,Bxh7+,Kxh7,Qh5+,Kg8,c3,Ne6,Rf3,Nxf4,Rxf4,g6,Qh6,g5,Rg4,Be3,Rg3,Bf4', 'Rh3,g4,Qh7#', 'https://lichess.org/training/3ntiz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3O3i8', 'Rapid', 'timepassxyz', 1815, 'tiopepe22', 1824, 'e4,c5,d4,cxd4,c3,e5,Nf3,Nc6,cxd4,exd4,Nxd4,Nf6,Nc3,Bb4,Bd3,O-O,O-O,Re8,Bg5,Bxc3,bxc3,h6,Bh4,Ne5,Bc2,d6,f4,Bg4,Qb1,Ng6,Bg3,Qa5,e5,dxe5,fxe5,Nxe5,Qb3,Rac8,Rxf6,gxf6,Be1,Nc4,Bd3,Ne3,Bd2,Qe5,Re1,Qf4,g3,Qg5,h4,Qe5,Rxe3,Qxe3+,Bxe3,Rxe3,Qc2,Rxg3+,Kf2,Rh3,Bf5', 'Rh2+,Kg3,Rxc2', 'https://lichess.org/training/3O3i8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3o3vE', 'Rapid', 'Abject_Pawn', 2059, 'Chilamba', 1931, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,g6,Bc4,Bg7,Nf3,Bg4,h3,Bxf3,Qxf3,O-O,O-O,Nc6,Bg5,Qb6,Bxf6,Bxf6,Nd5,Qxd4,Bb3,Bg7,Rfd1,Qxb2,Rab1,Qa3,Nxe7+,Nxe7', 'Bxf7+,Rxf7,Qxa3', 'https://lichess.org/training/3o3vE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3o5zD', 'Rapid', 'alksz', 1818, 'paksig54', 2097, 'e3,d5,b3,Nf6,Bb2,Bf5,Ne2,e6,Ng3,Bg6,Be2,Be7,Bh5,c5,Bxg6,hxg6,Qf3,Nc6,Nc3,a6,O-O-O,b5,d3,Qb6,e4,d4,Nce2,Ne5,Qf4,O-O,h4,Neg4,Qf3,Ne5,Qf4,Bd6,h5,gxh5,Nxh5', 'Nxd3+,cxd3,Bxf4+', 'https://lichess.org/training/3o5zD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3O7tZ', 'Rapid', 'B72599136ARAMIS', 2060, 'B61211775MILENA', 1757, 'd4,e6,c4,Qf6,e4,Nc6,e5,Qg6,Nf3,Nb4,Na3,Nh6,Nh4,Qe4+,Qe2,Qxh4,g3,Qxd4,Nb5,Qc5,Be3,Qxe5,f4,Qe4,Rc1,Qxh1,Nxc7+,Ke7,Nxa8,Nxa2,Ra1,Nb4,Bc5+,Kf6', 'Qe5+,Kg6,Qg5#', 'https://lichess.org/training/3O7tZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3odvQ', 'Rapid', 'ChessSamuel', 1846, 'sharkema', 1726, 'e4,Nf6,e5,Ng8,d4,d5,Nf3,Bg4,Be2,Bxf3,Bxf3,e6,O-O,c5,c3,Ne7,dxc5,Nf5,b4,Qc7,Re1,Nc6,Bf4,a5,a3,axb4,cxb4,Nxb4,Nc3,Nc6,Bg4,Bxc5,Bxf5,exf5,Qxd5,Nd4', 'e6,Qc6,exf7+', 'https://lichess.org/training/3odvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3oDzs', 'Rapid', 'stoka30', 1615, 'R0BOT', 1832, 'd4,Nf6,c4,e6,Nf3,b6,Nc3,c5,d5,d6,e4,Be7,Bg5,O-O,Bd3,e5,h3,Nxd5,Nxd5,Bxg5,Nxg5,Qxg5,Nc7,Bb7,O-O,Nc6,Nxa8,Bxa8,Qa4,Nd4,f3', 'Qe3+,Rf2,Qxd3', 'https://lichess.org/training/3oDzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ofpq', 'Blitz', 'GM Grukjr', 2605, 'CM LUDVIG_CARLSSON', 2548, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,c5,Ne2,Nc6,Be3,O-O,O-O,Bg4,f3,Na5,Bxf7+,Rxf7,fxg4,Rxf1+,Kxf1,Qd6,Kg1,Qe6,Qd3,Qc4,Qxc4+,Nxc4,Bg5,cxd4,cxd4,e5,d5,Bf8,h4,Rc8,Kh2,Nd6,Ng3,Rc3,Rc1,Ra3,Rc7,Rxa2,Bf6', 'Ne8,Rxb7,Nxf6', 'https://lichess.org/training/3ofpq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3oHk0', 'Blitz', 'dbofe', 1724, 'ScrawnyBadger', 1924, 'Nf3,d5,b3,e6,e3,Bb4,Bb2,Nf6,a3,Ba5,Be2,Bb6,O-O,Nc6,c4,d4,d3,dxe3,fxe3,Bxe3+,Kh1,Bd4,Bc3,Be3,Qc2,Nd4,Nxd4,Bxd4,Nd2,Ng4,Bxg4,e5,Bf3,Qg5,Ne4,Qh6,Rad1,O-O,b4,Bf5,c5,c6,Nd6,g5,Nxb7,g4,Be4,Be6,Nd6,g3,h3,Bxh3,gxh3', 'Qxh3+,Qh2,Qxh2#', 'https://lichess.org/training/3oHk0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3OLDH', 'Rapid', 'niko78', 1800, 'ugurtatarTR', 1789, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,h3,Nf6,Nc3,Bf5,Bg5,O-O,Nxd5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,c3,Nc6,Bc4,Rfe8+,Be2,Qg6,Nh4,Qg5,Nxf5,Qxf5,O-O,Rad8,a3,a6,Bc4,b5,Bb3,Ne7,Re1,Nd5,Rxe8+,Rxe8,Qg4,Qxg4,hxg4,Nf6,g5,Nd7,f4,Re2,Rb1,c5,d5,c4,Bd1,Rd2,Bf3,f6,Kf1,fxg5,fxg5,Ne5,Rd1', 'Nxf3,Rxd2,Nxd2+', 'https://lichess.org/training/3OLDH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3oLqH', 'Blitz', 'drafide', 2000, 'rook333', 1746, 'Nf3,d5,d4,Nf6,e3,e6,Bd3,Be7,Nbd2,O-O,O-O,b6,Qe2,Bb7,Ne5,Nbd7,f4,c5,c3,Ne4,Qf3,Ndf6,Ng4,Nxd2,Bxd2,Ne4,Be1,f6,Nf2,f5,g4,a5,g5,Ba6,Bxa6,Rxa6,Nxe4,fxe4,Qg4,b5,h4,Qe8,Bd2,Qg6,Rf2,Qf5,Qg2,c4,Kh2,a4,a3,Bd6,Raf1,g6,Qh3,Qxh3+,Kxh3,h5,gxh6,Kh7,Kg4,Kxh6,Rh1,Rf5,Rfh2,Ra8,h5,gxh5+,Rxh5+,Rxh5,Rxh5+,Kg6,Be1,Rg8,Rg5+,Kf7,Rxg8,Kxg8,f5,exf5+,Kxf5,Kf7,Bh4,b4,cxb4,Bxb4,axb4', 'c3,bxc3,a3,c4,a2', 'https://lichess.org/training/3oLqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ooM8', 'Rapid', 'irvi_7667', 1606, 'FuryQueen', 1661, 'e3,d6,h3,Nf6,b3,c5,Bb5+,Nc6,Bb2,g6,Nf3,Bg7,O-O,O-O,Be2,a5,Nh2,a4,Ng4,Bxg4,Bxg4,a3,Nxa3,Ne5,Be2,c4,Nxc4,Nxc4,Bxc4,Qc7,Bxf6,Bxf6,Rb1,Rxa2,d4,Rfa8,Qd3,e6,b4,R2a3,Rb3,Ra1,c3,d5,Bb5,Bh4,Qc2,R8a2,Rb2,Rxf1+,Bxf1,Ra1,Qd2,Qc4,Qe2,Qxc3,b5', 'Rxf1+,Qxf1,Qxb2', 'https://lichess.org/training/3ooM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Oqkv', 'Rapid', 'ponpen', 1824, 'benpig', 2034, 'c4,e6,g3,Nf6,Bg2,c5,Nc3,Nc6,b3,d6,Bb2,Be7,e3,O-O,Nge2,a6,O-O,d5,d3,d4,exd4,cxd4,Ne4,e5,Re1,Nxe4,Bxe4,f5,Bg2,Bf6,f4,Be6,fxe5,Bxe5,Bxc6,bxc6,Nf4,Bxf4,Rxe6,Be3+,Kf1,Qd7,Re5,f4,Ba3,fxg3+,Bxf8,Rxf8+,Kg2,gxh2,Qh5,g6,Qh4,Qd6,Qe4,Qf6,Re8,Qf2+,Kh1', 'Qg1+,Rxg1,hxg1=Q#', 'https://lichess.org/training/3Oqkv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3oSUO', 'Rapid', 'aguayo', 1610, 'benedekfabian', 1510, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Qf3,Be6,Ne2,c6,O-O,Nd7,Bxd5,Bxd5,Qg3,h6,h3,Qf6,Nbc3,Bc5,Be3,Bb6,Bxb6,axb6,Nxd5,cxd5,f4,e4,d4,O-O,Nc3,Qf5,Nb5,Rac8,Nd6,Qf6,Nxc8,Rxc8,c3,b5,a4,bxa4,Rxa4,Nb6,Rb4,Rc7,f5,Nc4,Qxc7,Nd2,Re1,Qxf5,Qxb7,e3,Qb8+,Kh7,Rxe3,Qf1+,Kh2,Qf2,Qg3', 'Nf1+,Kh1,Nxg3+,Rxg3,Qxg3', 'https://lichess.org/training/3oSUO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3OU5D', 'Rapid', 'thrillhouses', 1637, 'Agrinna', 1662, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,Nc6,c4,dxc4,Bxc4,Bd6,Bxd6,cxd6,O-O,Nf6,a3,Ne4,b4,d5,Bd3,O-O,b5,Na5,a4,b6,Bxe4,Bxe4,Ne5,Qg5,Nf3,Qg6,Nbd2,f6,Nxe4,dxe4,Nd2,f5,h3,Rac8,Rc1,Rfe8,Rxc8,Rxc8,Nb3,Rc4,Nxa5,bxa5,Qb3,Rb4,Qa2,h5,Rc1,Qf7,Rc6,Kh7,Rxe6,Qd7,Ra6,Qc7,Rxa5,Qxa5,Qe6,Qc7,Qxf5+,Kh8', 'Qf8+,Kh7,Qxb4,Qc1+,Kh2', 'https://lichess.org/training/3OU5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3OuFr', 'Rapid', 'ibrahimsabirturqay', 1819, 'dimitris6', 1833, 'd4,d5,c4,e5,cxd5,Qxd5,Nf3,e4,Nc3,Bb4,Ne5,Ne7,Qa4+,Nbc6,e3,O-O,Bc4,Bxc3+,bxc3,Qa5,Qb3,Nxe5,dxe5,Qxe5,Ba3,Qg5,O-O,Bh3,g3,Qg4,Qd1,Qg5,Re1,Bg4', 'Bxe7,Bxd1,Bxg5', 'https://lichess.org/training/3OuFr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3oUzo', 'Rapid', 'Natttty', 1719, 'ViktorB45', 1743, 'd4,d5,Bf4,h6,e3,Nf6,c4,c6,Nf3,e6,a3,Bd6,Bg3,Ne4,c5,Bc7,Bd3,O-O,Qc2,f5,Ne5,Rf6,Nc3,Nd7,f3,Nxg3,hxg3,Nxe5,dxe5,Bxe5,f4,Bxc3+,Qxc3,Rg6,Rh3,Rf6,O-O-O,Bd7,Rdh1,b6,Rh4,bxc5,Qxc5,Qb6,Qd6,Qxe3+,Kb1,Qxd3+,Ka2,Qc4+,Ka1,Rf7,g4,fxg4,Rxg4,Kh7,Rgh4,Raf8,g3,Qe4,R4h2,e5', 'Rxh6+,gxh6,Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/3oUzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ov6j', 'Rapid', 'Karwacik', 2087, 'Elohell_kg', 1871, 'f4,d5,Nf3,e6,e3,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,Nf6,b3,Bd6,Bb2,O-O,d3,Re8,Nbd2,Bc5,Qe1,g6,Ne5,Nd7,Ndf3,Nxe5,Nxe5,d4,e4,Qd6,Qh4,Qe7,Qh3,Rad8,Rae1,f6,Ng4,Bb4,Re2,Bc5,Qh4,f5,Nf6+,Kf7', 'Qxh7+,Kxf6,e5#', 'https://lichess.org/training/3ov6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3OX63', 'Blitz', 'wowaw666', 1928, 'Kastalsher', 1792, 'e3,e5,Nf3,e4,Nd4,d5,c4,c5,Nb3,d4,exd4,cxd4,d3,Bb4+,Bd2,Bxd2+,Qxd2,e3,fxe3,dxe3,Qxe3+,Ne7,Be2,O-O,O-O,Ng6,Qg3,Nc6,a3,Be6,Nc3,Qb6+,Kh1,Qxb3,Nb5,a6,Nd6,Nd4,Bg4,Bxg4,Qxg4,Qxd3,Rad1,Qe2,Qxd4,Rad8,c5,Ne5,Rde1,Nc6,Qc4,Qxb2,Nxf7,Na5,Qe6,Rde8,Qf5,Rxe1', 'Nh6+,gxh6,Qxf8#', 'https://lichess.org/training/3OX63');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3oXlg', 'Rapid', 'Azrayesil123122', 1699, 'neo06', 1811, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,d5,Bg5,c5,e3,Qa5,Ne2,Ne4,Bf4,cxd4,exd4,Nc6,cxd5,Qxd5,Qc2,Bd7,Ng3,Nf6,f3,Rc8,Qd3,a6,Be2,Na5,O-O,Bb5,Qc2,Qxd4+,cxd4,Rxc2,Bxb5+,axb5,Rfc1,Rc6,Rab1,Nd5,Bd2,Nc4,Rxb5,Nxd2', 'Rxc6,bxc6,Rb8+,Ke7,Rxh8', 'https://lichess.org/training/3oXlg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3P0VV', 'Rapid', 'ahmadjaber999', 1654, 'atulksagar', 1612, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Nf6,d4,Nc6,f4,g6,Nf3,Nb4,O-O,Qf5,Nh4,Qxc2,f5,Bxf5,Nxf5,gxf5,a3,Qxd1,Rxd1,Nbd5,Nxd5,Nxd5,Bf3,c6,b4,O-O-O,b5,e6,bxc6,bxc6,Bg5,Rd7,Rab1,Nc3,Bxc6,Nxd1,Bxd7+,Kxd7,Rxd1,Bd6,Bf6,Rg8,Be5,Bxa3,Ra1,Bd6', 'Rxa7+,Kc6,Ra6+', 'https://lichess.org/training/3P0VV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3P3uD', 'Rapid', 'jonwells', 1618, 'Akheloes', 1634, 'd4,Nf6,Bf4,d5,e3,Bf5,Nf3,a6,c3,Nc6,Nbd2,e6,Be2,Bd6,Bg3,Bxg3,hxg3,Qe7,Nh2,O-O-O,g4,Bg6,g5,Ne4,Nxe4,Bxe4,f3,Bg6,Bd3,f5,f4,h6,Nf3,hxg5,Rxh8,Rxh8,Nxg5,Rh1+,Bf1,Bh5,Qd2,Na5,g3,Nc4,Qg2,Rxf1+,Qxf1,Nxe3,Qf2,Nc4,b3,Na3,Nf3', 'Bxf3,Qxf3,Nc2+,Kf2,Nxa1', 'https://lichess.org/training/3P3uD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3P4LE', 'Blitz', 'oso-panda', 1864, 'Clare05042001', 1803, 'e4,e6,d4,d5,e5,c5,c3,f6,Nf3,fxe5,Nxe5,Nc6,Be3,Nxe5,dxe5,Ne7,Bd3,Nc6,O-O,g6,Qf3,Nxe5,Qe2,Nxd3,Qxd3,Bg7,Nd2,O-O,Nf3,b6,Rae1,Ba6,Qxa6,Rc8,Bg5,Bf6,Bxf6,Qxf6,Qxa7,Ra8,Qxb6,Rxa2,Rxe6,Qf7,Ng5', 'Qxf2+,Rxf2,Ra1+,Re1,Rxe1+,Rf1,Rexf1#', 'https://lichess.org/training/3P4LE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3P7wT', 'Blitz', 'FM Doubleb17', 2427, 'JMRA-357', 2319, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,f4,b5,a3,Bb7,Bd3,Rc8,Qe2,g6,e5,dxe5,fxe5,Nd5,e6,N7f6,exf7+,Kxf7,Qe6+,Kg7,Qe5,Nxc3,bxc3,Qd5,Ne6+,Kf7,Qxd5,Bxd5,Nxf8,Rhxf8,O-O,Rxc3,Rae1,Rfc8,Rxe7+,Kxe7,Bxf6+,Ke6,Bxc3,Rxc3,Ra1,Bc4,Be4,Ke5,Bb7,a5,a4,b4,Re1+,Kf6,Be4,Ra3,Rd1,Rxa4,Rd4,Be6,Bd3,Ra1+,Kf2,a4,Rd6,Ke5,Rb6,a3,Rxb4,a2,Ra4,Rh1,Ra5+,Kf6,Bf1,Rxh2,c4,Rh4,Rxa2', 'Rf4+,Ke3,Rxf1', 'https://lichess.org/training/3P7wT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3p9VT', 'Rapid', 'Ezebestia', 1700, 'Maksim_Volodin', 1667, 'd4,Nf6,h3,e6,Nf3,c5,c3,cxd4,cxd4,Bb4+,Nc3,Ne4,Qc2,d5,a3,Nxc3,axb4,Ne4,e3,O-O,Bd3,Nc6,Bxe4,dxe4,Qxe4,Nxb4,Bd2,f5,Qb1,Qb6,h4,Bd7,Ne5,Bb5,Bxb4,Rfc8,Qa2,Bc4,Nxc4,Qxb4+,Nd2,Rc2,Rd1,Re8,d5,Rd8,Qxa7,Rxd5,Qb8+,Kf7,O-O,Rcxd2,Rc1,Rd8,Rc7+,R2d7', 'Qxd8,Rxc7,Qxc7+', 'https://lichess.org/training/3p9VT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3peIz', 'Rapid', 'evgeniysobka', 1603, 'RezonansBR', 1738, 'c4,c5,a3,Nf6,e3,e5,h3,d5,cxd5,Nxd5,Qf3,Be6,Nc3,Nc6,Bc4,Be7,Nxd5,Bxd5,Bxd5,O-O,Bxc6,bxc6,Qxc6,Rc8,Qe4,Bd6,Nf3,f5,Qa4,e4,Nh2,Qc7,g3,Rf6,Qb3+,Kh8,g4,Bxh2,gxf5,Rxf5,Qe6,Rcf8,Qxe4,Rxf2,b4,Qg3,Kd1,Rf1+,Kc2,cxb4,axb4,Qc7+,Kb3,Qf7+,Ka3,Rxh1,Qxh1,Be5,d4,Bd6,Bd2,a5,Rb1,Qa7,Kb3,Rb8,Qc6,Bxb4,Bxb4,Rxb4+,Kc2,h6,Rxb4,axb4,Qe8+,Kh7,Qb5,Qa2+,Kd3,Qb3+,Ke4,Qc2+,Ke5,Qh2+,Kd5,Qg2+,Kc4,Qe2+,Kc5', 'Qxb5+,Kxb5,b3', 'https://lichess.org/training/3peIz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3pHnH', 'Rapid', 'Alfariz', 2050, 'naborjs', 1934, 'f4,d5,Nf3,Nc6,d4,h6,e3,Bf5,Nc3,e6,Be2,Nf6,O-O,Be7,a3,Ng4,Ne5,Ngxe5,fxe5,g5,Rxf5,exf5,Bf3,Qd7,Bxd5,O-O-O,Bxf7,Nxe5,Bb3,Kb8,Bd2,Ng6,Qh5,Qd6,Nb5,Qb6,Nc3,f4,Na4,Qf6,Rf1,Rxd4,exd4,Qxd4+,Kh1,Nh4,Bc3,Qe4,Qg4', 'h5,Qh3,g4', 'https://lichess.org/training/3pHnH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3pMeb', 'Classical', 'Edawg2002', 2017, 'salibovic', 2023, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,bxc3,d5,Re1,O-O,Bd3,Bf5,Qc2,Re8,Ng5,Qe7,f3,h6,fxe4,hxg5,Bxg5,Qxg5,exf5,Re7,Qb3,Rae8,Rxe7,Rxe7,Qxb7', 'Qe3+,Kh1,Qe1+', 'https://lichess.org/training/3pMeb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3PmGv', 'Rapid', 'papitz', 2217, 'Cf7mat', 1862, 'd4,e6,Bf4,b6,e4,Bb7,Bd3,c5,c3,cxd4,cxd4,Nf6,Qe2,Nc6,Nf3,Bb4+,Nbd2,O-O,O-O,Rc8,e5,Nd5,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,f5,Qg3,Nxf4', 'Nxe6+,Kf7,Nxd8+,Nxd8,Qxf4', 'https://lichess.org/training/3PmGv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3pPsA', 'Rapid', 'matencinq', 1768, 'patriziel', 1802, 'd4,e6,c4,d5,Nf3,c5,cxd5,exd5,e3,Nc6,a3,Nf6,Nc3,Be7,h3,O-O,Bb5,Bd7,Bxc6,Bxc6,O-O,h6,Bd2,Re8,Re1,Ne4,Nxe4,dxe4,Nh2,cxd4,exd4,Qxd4,Bc3,Qxd1,Raxd1,h5,Nf1,Bc5,Ne3,Rad8,Rxd8,Rxd8,Nf5,g6,Nh6+,Kf8,g4,hxg4,Nxg4,Bd6,Nf6,b6,Nxe4,Bxe4,Rxe4,f5,Ra4,Rd7,Bb4,Bxb4,Rxb4,Ke7,Kg2,Kf6,a4,Rd5,b3,Ke5,f4+,Kd6,Kg3,Kc5', 'Rb5+,Kd6,Rxd5+,Kxd5,Kh4', 'https://lichess.org/training/3pPsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3pQqb', 'Rapid', 'Ayul04', 1780, 'sounthar', 1775, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Nc3,Bb7,Nd5,Bc5,Qe5+,Ne7,Nxe7,Qxe7,Qxg7,Qxe4+,Be3,O-O-O,Be2,Bxe3,fxe3,Qxe3,Rd1,Rde8,Qg4,Re7,Rf1,Rhe8,Rf2,Ba6,Rd2,Qc5,Kd1,Qxf2', 'Bxa6+,Kd8,Rxf2', 'https://lichess.org/training/3pQqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3puEO', 'Rapid', 'hotchess414', 1798, 'buszmen', 1861, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Ne7,Bg5,f6,Bxf6,gxf6,Qxf6,Rg8,Bc4,Bg7,Qf7+,Kd7,Qe6+,Ke8', 'Qf7+,Kd7,Be6#', 'https://lichess.org/training/3puEO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3pUOp', 'Rapid', 'VRemezy', 1951, 'ahmed_husein', 1912, 'd4,Nf6,Bg5,g6,Bxf6,exf6,e4,Bg7,Bd3,O-O,Nf3,d6,O-O,Nd7,c3,c5,Bc2,Qb6,b3,Re8,d5,Ne5,Nbd2,Bg4,Rb1,Qc7,c4,f5,h3,Bxf3,Nxf3,f4,Nxe5,Bxe5,Qg4,Qe7,h4,h5,Qh3,Bf6,g3,fxg3,fxg3,Bd4+,Kh2,f5,exf5', 'Qe2+,Qg2,Qxg2+,Kxg2,Re2+', 'https://lichess.org/training/3pUOp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3pwaP', 'Rapid', 'ALXXA', 1928, 'monemobidy', 1938, 'd4,g6,c4,c5,a3,cxd4,Qxd4,Nf6,Qd1,Nc6,b3,Bg7,e3,Ne4,Ra2,Bc3+,Bd2,Bxd2+,Nxd2,Nc3', 'Qa1', 'https://lichess.org/training/3pwaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3PwIb', 'Blitz', 'zugeliang', 1613, 'RostPruymuk', 1622, 'e4,e5,Nf3,d6,Bc4,Be6,Bb3,Nf6,d3,h6,h3,Nc6,O-O,Be7,c3,a5,Be3,b6,Qd2,Nh7,d4,exd4,cxd4,d5,e5,Ng5,Bd1,Nxf3+,Bxf3,Bg5,Nc3,Bxe3,Qxe3,g5,Bh5,Qe7,Nb5,Rg8,a3,g4,hxg4,Bxg4,Bxg4,Rxg4,Qxh6,Rg6,Qh8+,Qf8,Nxc7+,Ke7,Nxd5+,Ke8,Nc7+,Ke7,Qxf8+,Kxf8,Nxa8,Nxd4,Nxb6,Rxb6,Rad1', 'Ne2+,Kh1,Rh6#', 'https://lichess.org/training/3PwIb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Pwyk', 'Rapid', 'redwhite81', 1812, 'rolful', 1821, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Be2,Be7,Nc3,Nf6,O-O,Nxd4,Qxd4,O-O,Nd5,Nxd5,exd5,Bf6,Qf4,Re8,Bd3,Be5,Qf3,Qh4,h3,Bd7,Rb1,Re7,Re1,Rae8,Kh1,a6,Re4,Qf6,Qh5,g6,Qh6,Qxf2,Bg5,Qg3,Bf4,Bxf4,Qxf4,Qxf4,Rxf4,Re1+,Rxe1,Rxe1+,Kh2,f5,b3,Kg7,a4,a5,Rc4,c5,dxc6,Bxc6,Rd4,d5,Bb5,Re4,Rd2,Kf6,Bd3,Re5,Be2,g5,Bf3,f4,Rd4,h6,Rd2,Ke6,Rd4,b6,Rd3,Re3,Rd4,Rc3,Rd2,Ke5,Re2+,Re3,Rd2,Rc3,Re2+,Kf5,Rd2,Rc5,Re2,b5,axb5,Rxb5', 'Bg4+,Kf6,Re6+,Kg7,Rxc6', 'https://lichess.org/training/3Pwyk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3PzjM', 'Rapid', 'wasely-jo', 1652, 'petr_kurlik', 1665, 'd4,d5,Bf4,e6,e3,Be7,c4,c6,Nf3,Nf6,Nc3,O-O,cxd5,cxd5,Bd3,h6,O-O,a6,a4,Nc6,Qb3,Bd6,Bg3,Bxg3,hxg3,Ng4,Rfc1,f5,Rc2,Qe8,Rac1,Qe7,Ne2,g5,Qb6,Qb4', 'Rxc6,Qxb6,Rxb6', 'https://lichess.org/training/3PzjM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3pzLG', 'Classical', 'oduori', 1765, 'VbcnthBR', 1877, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,a6,a3,d6,h3,Nf6,d3,h6,Ba2,O-O,Nc3,Be6,Ne2,Nh5,c3,Ba7,Bd2,Bxa2,Rxa2,Qe7,Nc1,Qe6,Ra1,Qg6', 'Nh4,Qh7,Qxh5', 'https://lichess.org/training/3pzLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Q4MN', 'Blitz', 'gjimy03', 1990, 'Dont_understand_ches', 2024, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c3,c6,Bd3,Bd6,O-O,O-O,Re1,h6,Be3,Bg4,h3,Bh5,Be2,Re8,Qc1,Bg6,Bxh6,gxh6,Qxh6,Bf8,Qg5,Ne4,Qe3,Kh7,Ne5,Rxe5,dxe5,Bh6,Qd4,c5,Qd1,d4,Bf3,Ng5,Bxb7,Nd7,Bxa8,Qxa8,cxd4,Be4,f3,Bg6,Nc3,Ne6,d5,Nd4,e6,Nb6,d6,Nxe6,d7,Qd8,Nb5,Nxd7,Nxa7,Qc7,Nb5,Qb6,Qxd7,c4+,Kh1,Bf4,Rxe6,Qf2,Re4,Bb8,Rg4,Qxb2,Rd1,Qe5,Kg1,c3,Nxc3,Qe3+,Kh1,Qe5,Kg1,Qe3+,Kf1,Ba7,Qd2', 'Qg1+,Ke2,Qf2#', 'https://lichess.org/training/3Q4MN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3QCLF', 'Rapid', 'Tiraspol1981', 1837, 'knightoffrozenlake', 1908, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,d4,Bd7,Nc3,g6,Bg5,Bg7,dxe5,Nxe5,Nxe5,dxe5,Bc4,c6,Qf3,h6,Be3,Qe7,Rad1,Bg4,Qg3,Bxd1,Rxd1,Nh5,Qg4,b6,g3,Rd8,Rxd8+,Qxd8,Qf3,Qf6,Qg4,O-O,f4,exf4,gxf4,Kh7,f5,Rd8,Ne2,b5,Bd3,a6,e5,Qxe5,fxg6+,Kh8,Bd2,Nf6,Qh3,fxg6,Nf4,Qg5+,Kf1,Nh5', 'Nxg6+,Qxg6,Bxg6', 'https://lichess.org/training/3QCLF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3QcLQ', 'Rapid', 'alfbargall', 1789, 'Ddotness22', 1829, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,Nc6,Be3,Be6,c5,b6,cxb6,cxb6,Bd3,a6,Nge2,Bb4,O-O,Bxc3,bxc3,O-O,Nf4,Ne4,Bxe4,dxe4,Qc2,Bf5,Ne2,Rc8,Ng3,Be6,Qxe4,Bd5,Qg4,Be6,Qf4,Bc4,Rfc1,Ne7,Qf3,Qd5,Qxd5,Nxd5,Bd2,Rfe8,a4,f6,Nf5,Re2,Nd6,Rc6,Nxc4,Rxc4,Ra2,Nb4,Re1', 'Rxe1+,Bxe1,Nxa2', 'https://lichess.org/training/3QcLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3qdBa', 'Rapid', 'Talisman2', 1693, 'FirstClash', 1724, 'c4,c5,Nc3,Nc6,e3,e6,Nf3,Nf6,Bd3,d5,b3,e5,Bc2,Bg4,h3,Bh5,g4,Nxg4,Nh2,Nf6,f3,a6,Qe2,Be7,Ng4,Nxg4,fxg4,Bh4+,Kd1,Bg6,Bxg6,hxg6,Bb2,Ne7,Kc2,O-O,Raf1,d4,Ne4,b6,Qf3,Nc6,a3,dxe3,Qxe3,f5,gxf5,gxf5,Nf2,Nd4+,Kb1,Bg5,Qxe5,Nxb3', 'Qxg7#', 'https://lichess.org/training/3qdBa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3qFTt', 'Rapid', 'Alanreis41', 2152, 'michael2002', 2269, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,b6,Bd2,Bb7,e3,d6,Be2,Bxc3,Bxc3,Ne4,Rc1,Qe7,O-O,Nxc3,Rxc3,Nd7,b4,a5,a3,e5,c5,e4,c6,Bxc6,Rxc6,exf3,Bxf3,O-O,Rxc7,Rac8,Ra7,axb4,Qa4,Rfd8,Bg4,bxa3,Bxd7,Rc3,Bc6,Qe6,Ra8,Rc8,Bd5,Qxd5', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/3qFTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3qG8m', 'Rapid', 'bagumepmak', 1876, 'Lukyno', 1847, 'e4,e6,d4,d5,exd5,Qxd5,Nf3,Nc6,c3,Nf6,h3,b6,Bf4,Qd8,Bb5,Bb7,Ne5,Qd5,Bxc6+,Bxc6,Nxc6,Qxc6,O-O,Rc8,Nd2,a5,Nf3,Nd5,Ne5,Qb7,Qa4+', 'b5,Qd1,Nxf4', 'https://lichess.org/training/3qG8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3qgY4', 'Rapid', 'Ilyosbekk00', 1609, 'Tirthesh', 1845, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,Qf6,e5,Qb6,Qd3,Bc5,Be3,Bxe3,fxe3,Qxb2,Qc3,Qxc3+,Nxc3,c6,Be2,Ne7,O-O,O-O,Bd3,c5,Ne4,b6,Be2,Nc6,Bf3,Nxe5,Nf6+,gxf6,Bxa8,Ba6,Rfd1,Rxa8,a4,Bb7,a5,b5,Kf2,Bc6,Rf1,Re8,Ke2,Re6,Rf5,Be4,Rf4,Bxc2,Rc1,Bb3,Rxc5,Bc4+,Kd2,Rd6+,Kc3,Rd3+,Kc2,Kf8,Rc8+,Ke7,Rd4,Rxd4,exd4,Nc6,Kc3,Nxa5,Rh8,Nc6,Rxh7,a5,g4,Nd8,h4,Ne6,h5,Ng5,Rg7,Be2,h6,Bxg4', 'Rxg5,fxg5,h7', 'https://lichess.org/training/3qgY4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3qhPA', 'Rapid', 'MohammadCMT', 1938, 'Warrior1991', 1907, 'd4,d5,c4,dxc4,Nf3,Nf6,Bf4,e6,e3,c5,Bxc4,a6,O-O,b5,Bd3,Bb7,dxc5,Bxc5,Ne5,Nbd7,Nc3,b4,Ne2,Nxe5,Bxe5,Qd5,Nf4,Qxe5,Qa4+,Nd7,Rfd1,Qc7,Rd2,Bc6,Qb3,O-O,Rad1,Be7,Nxe6,fxe6,Qxe6+,Rf7,Bxh7+,Kxh7,Qxf7,Ne5,Qh5+,Kg8,Rc1,Qa5,Qh3,b3,Qe6+,Kf8,Rd4,Bf6,axb3,Re8,Qh3,Nf7,Rf4,Rd8,g3,Qd5,e4,Qd2,Rxc6,Qd1+,Kg2,Ng5,Qh8+,Kf7,Rfxf6+,gxf6,Qxf6+,Ke8,Qg6+,Kd7,Rxa6,Qf3+,Kg1', 'Nh3+,Kf1,Qxf2#', 'https://lichess.org/training/3qhPA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3qI2l', 'Rapid', 'yassineab', 1950, 'alexluzhin', 2034, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,d5,Bb5,Ne4,cxd4,Bb6,Qc2,Bd7,Be3,O-O,Nc3,Ba5,a3,Bxc3+,bxc3,Nxe5,Bxd7,Nxf3+,gxf3,Nxf2,Qxf2,Qxd7,Qg3,Rac8,Rg1,f5,Bh6', 'Qe6+,Kf2,Qxh6', 'https://lichess.org/training/3qI2l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3qi6u', 'Rapid', 'yvonvites', 1886, 'haamid9431', 1927, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,c3,a6,a4,O-O,a5,Be6,Bb3,h6,Bxe6,fxe6,Qb3,Qd7,Nh4,Kh7,Nd2,Ng4,Nhf3,b6,axb6,Bxb6,Qd1,a5,Ng5+,hxg5,Qxg4,Rf4,Qh5+,Kg8,Nf3,Qe7,Bxf4,gxf4,Qg5,Qxg5,Nxg5,Rd8,Nxe6,Rd7,Ng5,g6,Kh1,Kg7,f3,Kf6,Nh3,d5,Nf2,Bxf2,Rxf2,dxe4,dxe4,g5,g3,Kg6,Kg2,Kh5,g4+,Kg6,Ra4,Rd3,Rc4,Rd6,b3,Kf6,b4,axb4,cxb4,Nd4,Rxc7,Rb6,Rc4,Ke6,Rd2,Ra6,Rcxd4,exd4,Rxd4,Rb6,Kf2,Rb5,Ke2,Ke5,Rc4,Rb7,Rc5+,Kf6,b5,Rh7,Rc6+,Ke5,b6,Rxh2+,Kf1,Rb2,Rg6,Kd4,Rxg5,Rxb6,Rd5+,Ke3,e5,Kxf3,Ke1,Kxg4,Ke2,f3+,Kf2,Rb2+,Kf1,Kg3,e6', 'Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/3qi6u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3qjUb', 'Rapid', 'GUNCHESS', 1757, 'efim264', 1780, 'd4,d5,g3,Nf6,Nd2,e6,Bg2,Be7,e4,dxe4,Nxe4,Nc6,Nxf6+,Bxf6,c3,O-O,Nf3,Re8,O-O,Ne7,Bg5,Ng6,Bxf6,Qxf6,Re1,Rd8,Qb3,a6,Ne5,Rd6,Nxg6,Qxg6,d5,exd5,Bxd5,Be6,Qxb7,Bxd5', 'Qxa8+,Bxa8,Re8#', 'https://lichess.org/training/3qjUb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3qklE', 'Rapid', 'Ouitya', 1763, 'Ma1alfa', 1751, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,exd4,Nxd4,Nf6,O-O,Bc5,Nf5,Bxf5,Qxd8+,Rxd8,exf5,O-O,a3,Rd5,b4,Bb6,Be3,Bxe3,fxe3,Rfd8,Nc3,Rd2,Rac1,Kf8,h3,Nd5,Nxd5,cxd5,c4,dxc4,Rxc4,R8d7,Rc3,Ra2,g4,Rdd2,Rfc1,Rg2+,Kf1,Rh2,e4', 'Rh1#', 'https://lichess.org/training/3qklE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3QkuM', 'Rapid', 'ramsector4', 1855, 'sampoull', 1902, 'c4,Nf6,Nc3,g6,d4,c5,d5,e6,e4,exd5,cxd5,d6,Bg5,Bg7,Nf3,Qa5,Qd2,O-O,Bd3,Bg4,Qe2,Re8,O-O,a6,h3,Bd7,a4,Qc7,Nd2,a5,Nc4,Na6,Bf4,Bf8,Bg3,Nb4,Nd1,Nfxd5,Qd2,Nxd3,Qxd3,Nb4,Qc3,Rxe4,Nde3,Bg7,Qd2,Rd4,Qe2,Re8,Rfd1,Rxd1+,Rxd1,Bd4,Nxd6,Bxa4,Nxe8,Bxd1,Nxd1', 'Qxg3,Nf6+,Kg7', 'https://lichess.org/training/3QkuM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3QpSs', 'Rapid', 'perycool', 1869, 'maciek1959', 1741, 'e4,e5,Nf3,f5,Nxe5,d6,Qh5+,g6,Nxg6,hxg6,Qxh8,Nf6,exf5,Bxf5,d3,Qe7+,Be3,Nbd7,Qh4,O-O-O,Qa4,a6,Nd2,Nc5,Qa3,Nd5,d4,Nxe3,Qxe3,Qxe3+,fxe3,Ne4,Nxe4,Bxe4,O-O-O,Bh6,Re1,Rf8,Rg1,Rf2,Re2', 'Rxe2,Bxe2,Bxe3+,Kd1,Bxg1', 'https://lichess.org/training/3QpSs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3qPwL', 'Blitz', 'matamodulos', 1763, 'Martian_Champ', 1748, 'e4,c5,f4,d6,Nf3,Nc6,a3,Nf6,e5,Nd5,Bc4,Nb6,Ba2,e6,O-O,Be7,Kh1,O-O,c3,Qc7,d4,dxe5,dxe5,Rd8,Qc2,Nd5,c4,Nb6,Nc3,Nd4,Nxd4,Rxd4,Nb5,Qc6,Nxd4,cxd4,Qd3,Bc5,b4,Be7,Bb2,Na4,Bxd4,Bd7,Qe3,b5,Rad1,Bc8,cxb5,Qxb5,Rc1,Bb7,Rc7', 'Qxf1+,Qg1,Bxg2#', 'https://lichess.org/training/3qPwL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3QRIG', 'Rapid', 'bahmanbonab', 1673, 'Krinst', 1674, 'e4,e5,Nf3,Nc6,c3,d5,exd5,Qxd5,c4,Qc5,Nc3,Be6,b3,Bf5,Be2,Nd4,Na4,Qa5,Nxd4,exd4,Bb2,O-O-O,O-O,Nh6,d3,Bd7,Bc1,Nf5,Nb2,Qe5,f4,Qf6,Bf3,Nh4,Be4,Bd6,Bd2,Rde8,Qc1,Bf5,Bxf5+,Nxf5,c5,Be7,b4,Ne3,Rf3,Ng4,Nc4,Qh4,h3,h5,hxg4', 'hxg4,Rh3,gxh3', 'https://lichess.org/training/3QRIG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Qrxw', 'Rapid', 'szeweningen2', 2337, 'nickchik', 2208, 'e4,e6,d4,d5,Nc3,Bb4,e5,Ne7,a3,Bxc3+,bxc3,c5,Qg4,Qc7,Qxg7,Rg8,Qxh7,cxd4,Ne2,Nbc6,f4,dxc3,Qd3,d4,Nxd4,Nxd4,Qxd4,Bd7,Rg1,Nf5,Qf2,a6,g4,Ne7,h4,O-O-O,h5,Nd5,h6,Ba4,h7,Rh8,Rh1,Qd7,Bd3,Bb5,Bxb5,Qxb5,Qe2,Qd7,Be3,f6,exf6,Rxh7,Rxh7,Qxh7,O-O-O,Nxf6,Rxd8+,Kxd8,Bb6+,Kd7,Qd1+,Nd5,Bd4,Kc6,Be5,Qe4,g5,Qe3+,Kb1', 'Qb6+,Ka1,Qb2#', 'https://lichess.org/training/3Qrxw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3qt9X', 'Rapid', 'jurek02', 1824, 'baa_baa', 1822, 'e4,e5,Nf3,Nc6,c3,Bc5,d4,exd4,cxd4,Bb6,d5,Nb4,a3,Na6,Nc3,d6,Be2,Nf6,O-O,O-O,Bg5,h6,Bh4,g5,Bg3,Nh5,Nd4,c5,Bxh5,cxd4,Ne2,f5,exf5,Bxf5,Nxd4,Bd7,Re1,Qf6,Ne6,Bxf2+,Bxf2,Qxf2+,Kh1,Rf6,Bf3,Nc5,Nxc5,dxc5,Re2,Qd4,Qxd4,cxd4,Rd1,Bb5,Red2,d3,h3,Rd8,Be4,b6,Bxd3,Rxd5', 'Bh7+,Kxh7,Rxd5', 'https://lichess.org/training/3qt9X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3QxpM', 'Blitz', 'AliKhan88', 1787, 'Antigoneee', 1813, 'b4,d5,Bb2,Nf6,Nf3,Bg4,e3,Nc6,b5,Nb4,h3,Bxf3,Qxf3,Nxc2+,Kd1,Nxa1,Bxa1,e6,Nc3,Bb4,Be2,O-O,Ke1,Bxc3,Bxc3,Ne4,Bd4,a6,a4,axb5,axb5,Ra1+,Bxa1,Qa8,Be5,Qa2,Qg4,f6,Qxe6+,Kh8,Bxc7', 'Qxd2+,Kf1,Qc1+,Bd1,Qxd1#', 'https://lichess.org/training/3QxpM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3r1JU', 'Blitz', 'Lirim91', 2005, 'DovBear1', 1932, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bd3,Bb4,Bd2,Nf6,O-O,Nc6,Nxc6,bxc6,Kh1,Bb7,f4,h5,a3,Ba5,Ne2,Bb6,Bc3,h4,h3,Nh5,f5,exf5,exf5,Ng3+,Nxg3,hxg3,Bxg7,Rxh3+,gxh3,c5+,Kg1,c4+,Rf2,gxf2+,Kf1,Qh2', 'Qe2+,Kd8,Bf6+,Kc7,Be5+,d6,Bxh2', 'https://lichess.org/training/3r1JU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3R1WY', 'Rapid', 'vgoel', 1768, 'solimanennara', 1768, 'd4,c6,c4,d6,Nc3,a6,Nf3,h6,e4,Qc7,Bd3,Nd7,O-O,e5,dxe5,dxe5,b4,Bxb4,Bb2,Ngf6,a3,Bc5,Na4,Ba7,Rb1,O-O,Qc2,Re8,c5,b5,cxb6,Nxb6,Nxb6,Bxb6,Nxe5,Bb7,Nc4,Ba7,Bxf6,gxf6,Qb2,Bb8,g3,Ra7,Qxf6,Re6,Qf5,c5,e5,Rg6,Nd6,Bd5,Qc8+,Qxc8,Nxc8,Ra8,Nb6,Rxb6,Rxb6,Bxe5,Rxa6,Rc8,Re1,Bg7,Ra5', 'Bc3,Rxc5,Rxc5', 'https://lichess.org/training/3R1WY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3r8xM', 'Classical', 'aroshka', 1895, 'Ashrichem', 1725, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,Nf3,dxe4,Bxf6,Bxf6,Nxe4,Be7,Ne5,Nd7,Bb5,c6,Ba4,Nxe5,dxe5,Qa5+,c3,Qxe5,Qe2,f5,Ng3,Qxe2+,Nxe2,O-O,Ng1,e5,Nf3,e4,Nd4,c5,Bb3+,Kh8,Ne6,Bxe6,Bxe6,Rae8,O-O,Bd6,Bd5,b6,Rad1,Rd8,Rfe1,Rfe8,g3,g6,Rd2,Re7,Red1,Red7,c4,Kg7,Kf1,Kf6,Ke2,Ke7,Ke3,Be5,b3,g5,Ke2,Rd6,f3,e3,Kxe3,f4+,Ke4,Kf6,g4,Re8,Kd3,Bd4,Re2,Re3+,Rxe3,Bxe3,Ke2,Ke5,h3,Rh6,Rh1,Kd4,Rh2,Kc3,Kd1,a5,Ke2,Kb2,Kd3+,Ka3,Ke4,Bg1,Rh1,Kxa2,Rxg1,Kxb3,Rb1+,Kc3,Kf5,Rg6,Bf7,Rd6,Kxg5,a4,Ra1,Kb3,Kxf4', 'Rf6+,Ke5,Rxf7', 'https://lichess.org/training/3r8xM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3RaeK', 'Bullet', 'amatir99', 1853, 'Ufuk50', 1845, 'd4,Nf6,Nf3,e6,Bg5,d5,Nbd2,Be7,c3,h6,Bxf6,Bxf6,e4,dxe4,Nxe4,Be7,Bd3,b6,O-O,Bb7,Qe2,O-O,Rad1,f5,Ng3,Qd7,Rfe1,Rf6,Nh5,Rg6,Ne5,Qd5,Nf4', 'Rxg2+,Kf1,Rg1+,Kxg1,Qh1#', 'https://lichess.org/training/3RaeK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3RAG8', 'Rapid', 'Michael_Pacino36', 1665, 'LangThang', 1757, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Bg4,h3,Bxf3,Qxf3,Nc6,c3,Be7,Bc2,O-O,O-O,Qd6,Qd3,Nd8,Bg5,g6,Bh6,Re8,Nd2,Ne6,Rae1,Nf4,Bxf4,Qxf4,Nf3,Bd6,g3,Qh6,Bb3,Qxh3,Ne5,Ng4,Nxg4,Qxg4,Bxd5,c6,Bf3,Qg5,Kg2,h5,Rh1,Rxe1,Rxe1,h4,Bd1,hxg3,fxg3,Kg7,Rf1,Rh8,Bb3,f6,Qf3,Be7,Rh1', 'Qd2+,Qf2,Qxf2+,Kxf2,Rxh1', 'https://lichess.org/training/3RAG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3RBoD', 'Blitz', 'lucas21', 1612, 'neuro20', 1612, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Bc5,Be3,Bxd4,Bxd4,Nxd4,Qxd4,d6,Qxg7,Qf6,Qxf6,Nxf6,Nc3,Be6,Bxe6,fxe6,O-O-O,O-O-O,h3,Rhg8,g3,Nd7,a3,Nc5,b4,Nd7,Kb2,Rgf8,Rhf1,a6,Kb3,b5,a4,bxa4+,Nxa4,Nb6,Nxb6+,cxb6,Ra1,Kb7,c4,Rf3+,Ka4,b5+,cxb5,axb5+,Kxb5,Rb8,Kc4,Kc7,Ra7+,Kc6,Ra6+,Kb7,b5,Rc8+,Kb4,Rc5,Ra5,Kb6,Ra6+,Kb7,Rxd6,Rfc3,Rb1', 'R5c4+,Ka5,Ra3#', 'https://lichess.org/training/3RBoD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3rcVJ', 'Rapid', 'TintinTheFox', 2006, 'Bl4cKn1ght', 1869, 'c4,d5,Qc2,Nf6,Nf3,Nc6,e3,e5,d3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O-O,dxc4,dxc4,Be6,Kb1,Qe7,Ng5,Bd7,a3,h6,Nge4,Bf5,Bd3,Nxe4,Nxe4,Rad8,h3,Rd7,g4,Bg6,h4,Rfd8,h5,Bh7,f3,f5,Nf2,Qc5,Bxf5,Rxd1+,Rxd1,Rxd1+,Nxd1,Bxf5,Qxf5,Qxc4,Qc8+,Kh7,Qxc7,Qd3+,Kc1,Qc4+,Nc3,Qf1+,Kc2,Qxf3,Qxb7', 'Nd4+,exd4,Qxb7', 'https://lichess.org/training/3rcVJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3RemK', 'Rapid', 'dsthaker', 1834, 'ivanvor', 1865, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,h3,Nf6,Nc3,d6,a3,a6,O-O,Qe7,Nd5,Nxd5,Bxd5,Be6,Bxe6,Qxe6,Be3,Bxe3,fxe3,O-O-O,Nh4,g6,b4,d5,exd5,Qxd5,e4,Qe6,c4,Rhf8,b5,axb5,cxb5,Nd4,a4,f5,exf5,Nxf5,Nxf5,Rxf5,Rxf5,Qxf5,Qd2,Qxd3,Qxh6', 'Qd4+,Kh2,Qxa1', 'https://lichess.org/training/3RemK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3riWB', 'Blitz', 'Mihaelgk', 1646, 'tiagovisk', 1703, 'e4,e5,d4,exd4,Qxd4,d6,e5,Nc6,Qe4,Nxe5,f4,Nf6,Qe2,Bg4,Nf3,Bxf3,gxf3,Nh5,fxe5,Qh4+,Kd1,O-O-O,Bd2,Nf4,Bxf4,dxe5+,Bd2,Qd4,Nc3,Bb4,Qd3,Qf2,Qe2,Rxd2+,Kxd2,Rd8+,Kc1,Qd4,Qd3,Qf4+,Kb1,Rxd3,Bxd3,Bxc3,bxc3,Qxf3,Kb2,g6,Rad1,f5,Rhf1,Qc6,h4,e4,Be2,Qb6+,Kc1,Qe3+,Rd2,Qxc3,Rfd1,b6', 'Ba6+,Kb8,Rd8#', 'https://lichess.org/training/3riWB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3RJ6D', 'Rapid', 'ilv2085', 1918, 'rogerthattt', 1953, 'd4,Nf6,c4,g6,Nf3,Bg7,g3,O-O,Bg2,d6,O-O,c5,d5,Bd7,Nbd2,b5,b3,a5,Bb2,a4,Qc2,a3,Bc1,b4,Rb1,Bf5,e4,Bg4,h3,Bd7,e5,Nh5,e6,fxe6,dxe6,Bc6,Ne4,Qc8,Neg5,Qb7,Qd3,h6,Nf7,Be4,Qd1,Rxf7,exf7+,Kxf7,Qe1', 'Bxf3,Bxf3,Qxf3', 'https://lichess.org/training/3RJ6D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Rjt2', 'Rapid', 'GM Lastpartisan', 2332, 'TooGoodToBeReal', 2114, 'Nf3,d5,g3,e6,Bg2,c5,O-O,Nc6,d3,Nf6,Nbd2,Be7,e4,O-O,Re1,Re8,e5,Nd7,Nf1,f6,exf6,Bxf6,Ne3,b5,Ng4,Bb7,c4,bxc4,dxc4,d4,Nxf6+,Nxf6,Bf4,Qb6,b3,Rad8,Bh3,e5,Bxe5,Nxe5,Nxe5,Qd6,f4,d3,Qd2,Ne4,Qe3,d2,Red1,Qd4,Qxd4,Rxd4,Bg2,Red8,a3,Ba8,Ra2,Nc3,Rdxd2,Rxd2,Rxd2,Rxd2,Bxa8,Ne2+,Kf1,Nd4,b4,cxb4,axb4,Rxh2,b5,Rc2,Bd5+,Kf8,g4,Ke7,Nd3,Rc3,Ne5,Rc2,Ke1,Kd6,Nd3,Nb3,Bg8,h6,Nb4,Rg2,Nc6,Rxg4,Nxa7,Rxf4,b6,Nc5,Bd5,Rf8,Nb5+,Kd7,Kd2,Rb8,Kc3,Rxb6,Kd4,Nb3+,Ke5,Rf6,Nc3,Nc5,Kd4,Nb3+,Ke5,Nc5,Nb5,Ne6,Be4,Nc7,Nd4,Re6+', 'Nxe6,Nxe6,Bf5,Kc6,Bxe6', 'https://lichess.org/training/3Rjt2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Rjx8', 'Rapid', 'Kuralesache', 1981, 'lonely_pawn79', 2035, 'd4,c6,e4,d5,e5,Bf5,Bg5,Qb6,b3,e6,g4,Bg6,h4,h5,Bd3,Qxd4,Bxg6,Qxd1+,Kxd1,fxg6,gxh5,gxh5,f4,Be7,Nf3,Nh6,Nbd2,Ng4,Ke2,Na6,Bxe7,Kxe7,Rag1,Raf8,Nh2,Rxf4,Nxg4,hxg4,Ke3,Rhf8,Rg3,R8f5,Rhg1,d4+,Ke2,Rxe5+,Kd1,Rh5,Rxg4,Rxh4,Rxg7+,Kd6,Rxb7,Nc5,Nc4+,Kd5,Rg5+,Rf5,Rxf5+,exf5,Rxa7,f4,Rf7,Ne4', 'Rf5+,Ke6,Re5+,Kf6,Rxe4', 'https://lichess.org/training/3Rjx8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3rKF7', 'Rapid', 'portley', 1933, 'Bpv', 1869, 'd4,d5,e3,Nf6,Nf3,e6,a3,Be7,c4,c6,Nc3,O-O,Be2,a6,O-O,Ne4,Qc2,f5,Ne5,Nd7,f4,Nxe5,fxe5,Bg5,Rf3,Bd7,b4,Be8,Nxe4,dxe4,Rh3,Rc8,c5,Rc7,Bd2,Rcf7,g3,f4,exf4', 'Qxd4+,Kg2,Qxa1', 'https://lichess.org/training/3rKF7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3rlMF', 'Rapid', 'nprpa', 1697, 'Lolkekcheburek007', 1667, 'e4,e5,Bc4,Nf6,Nc3,a6,d3,h6,Nf3,Nc6,a3,b5,Bd5,Bb7,Be3,Rb8,Qd2,b4,axb4,Nxb4,Bxb7,Rxb7,Nxe5,d5,Nxd5,Nfxd5,exd5,Qxd5,Nf3,Bd6,O-O,O-O,Bxh6,Qh5,Bf4,Bxf4,Qxf4,Nd5,Qe5,Qxe5,Nxe5,Re8,Nc4,Nb4,Rfc1,Re2,Kf1,Rxc2,Rxc2,Nxc2,Rxa6,c5,Ra8+,Kh7,Rc8,Re7,g3,Re1+,Kg2,Rd1,Rxc5,Rxd3,Ne5,Ne1+,Kf1,Rd1,Ke2,Rb1,Nxf7,Kg6,Ne5+,Kf6,Ng4+,Ke6,Rb5,Nc2,Ne3', 'Nd4+,Kd3,Nxb5', 'https://lichess.org/training/3rlMF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3rLXG', 'Blitz', 'Yi_Em_Fierro', 1856, 'pontiak', 1828, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,e3,Be7,Nf3,O-O,Rc1,b6,cxd5,exd5,Qa4,Bb7,Bb5,h6,Bh4,a6,Bxd7,Nxd7,Bxe7,Qxe7,O-O,c5,Ne2,b5,Qd1,c4,Nf4,Nf6,Ne5,b4,g4,Bc8,h4,g5,hxg5,hxg5,Nh5,a5,Qf3,Ne4,Qh3,Qe6,Kg2,f5,Rh1,fxg4', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/3rLXG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3rOqU', 'Rapid', 'Vladislav_Gulen', 2044, 'giuli605', 2190, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c6,Bg5,Nbd7,e4,dxe4,Nxe4,Bb4+,Nfd2,Bxd2+,Nxd2,Qa5,c5,Ne4,Bf4,O-O,Bd3,Ndf6,O-O,Nxd2,Bxd2,Qd8,Bg5,h6,Bh4,g5,Bg3,Qd5,Be5,Nd7,Bd6,Re8,Qh5,Kg7,Qg4,f5,Qh5,Nf6,Qe2,Qxd4,b3,Bd7,Rad1,Qg4,Qc2,Nd5,h3,Qh5,a4,Qf7,g4,Nf4,Bxf4,gxf4,gxf5,exf5,Bc4,Be6,Rd4,f3,Bxe6', 'Qg6+,Rg4,fxg4,Qxg6+,Kxg6', 'https://lichess.org/training/3rOqU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3rQSs', 'Blitz', 'freegate', 1872, 'ArtemDovgan', 1917, 'd4,d5,Nc3,Nf6,g3,a6,Bg2,e6,Nf3,Bd6,O-O,Nbd7,Re1,b6,e4,dxe4,Nxe4,Nxe4,Rxe4,Nf6,Re1,Bb7,Bg5,h6,Bxf6,Qxf6,d5,O-O,dxe6,fxe6,Nd4,Bxg2,Kxg2,Qxf2+,Kh1,Bc5,Nxe6,Rfe8,Nxc7', 'Rxe1+,Qxe1,Qf3#', 'https://lichess.org/training/3rQSs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3RqyL', 'Classical', 'mbartooo', 1695, 'Polkovnik60', 1645, 'e4,Nc6,d4,Nf6,e5,Nd5,Bc4,e6,Nf3,Nb6,Bd3,Be7,O-O,Nb4,Be2,N6d5,c4,Nb6,a3,Nc6,b4,a6,Nc3,d6,b5,Na7,Qc2,Bd7,Bd3,g6,Bh6,axb5,cxb5,c6,exd6,Bxd6,Bg5,f6,Bxg6+,Kf8,Bh6+,Kg8,Bxh7+', 'Rxh7,Qg6+,Kh8', 'https://lichess.org/training/3RqyL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3RRfE', 'Rapid', 'Stanojev_Aleksandar', 1990, 'hajizadeh', 1992, 'c4,e6,d4,b6,Nf3,Bb7,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nf6,e3,Ne4,Be2,O-O,O-O,Nxc3,bxc3,Qf6,Qc2,Nc6,Bd3,h6,Rae1,Na5,e4,d5,cxd5,exd5,e5,Qf4,e6,fxe6,Rxe6,Qg4,Rg6,Qh5,Ne5,Nc4,Nd7,Rf7,Ne5,Nxe5,dxe5,Qxe5,Qd2,Qh5,Re1,Raf8,f3,d4,cxd4,Bxf3,gxf3,Rxf3,Bc4+,Kh7,Qc2', 'Qxg6+,Qxg6+,Kxg6', 'https://lichess.org/training/3RRfE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3RTCd', 'Rapid', 'Currychicken', 1611, 'akag4u', 1608, 'e4,e5,f4,exf4,Nf3,g5,g3,fxg3,hxg3,g4,Nh4,d5,Nc3,Bd6,Rg1,Bc5,d4,Bb6,e5,Nc6,Be3,Nxe5,dxe5,Bxe3,Qe2,Bxg1,e6,Bxe6,O-O-O,Qg5+,Kb1,O-O-O,Bg2,Bc5,Qb5,Bd6,Qa5,Kb8,Ne4,dxe4,Qxg5,Ne7,Bxe4,h6,Qf6,h5', 'Rxd6,cxd6,Qxe7', 'https://lichess.org/training/3RTCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3rUDt', 'Rapid', 'Zaplya', 2284, 'Positional_game', 2302, 'Nf3,d5,g3,e6,Bg2,Nf6,O-O,g6,d4,Bg7,c3,O-O,Bg5,b6,Nbd2,h6,Bxf6,Bxf6,e4,dxe4,Nxe4,Bg7,Ne5,c6,Qc2,Bb7,Rad1,Qc7,f4,Nd7,Rd2,Rfd8,Rfd1,Rac8,Nf2,c5,Bxb7,Nxe5,Bxc8,Nf3+,Kg2,Nxd2,Bxe6,Qc6+,d5,Rxd5,Bxd5,Qxd5+,Ne4,Qxe4+,Qxe4,Nxe4,Rd8+,Bf8,Ra8,c4,Rxa7,Nc5,Ra8,Kg7,Rb8,Na4,b3,Nxc3,Rxb6,Nd5,Rc6,cxb3,axb3,f5,Kf3,Kf7,h3,Nb4,Rb6,Nd5,Rb5,Ke6,g4,fxg4+,hxg4,Bd6,f5+,gxf5,gxf5+,Ke5,f6,Ke6,f7,Nc7', 'Rb6,Kxf7,Rxd6', 'https://lichess.org/training/3rUDt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3RUHt', 'Rapid', 'kumar_dhamala123', 1934, 'Sanele77811', 1856, 'd4,g6,Nf3,Bg7,c4,e6,Nc3,Ne7,Bg5,O-O,e4,h6,Bh4,g5,Bg3,Ng6,h3,c6,Bd3,d5,e5,dxc4,Bxc4,b5,Bd3,Bb7,Bxg6,fxg6,Ne4,c5,Nd6,Bxf3,gxf3,cxd4,Qxd4,Rxf3,Qe4,Qa5+,Kf1,Rf8,Qxa8,Nd7,Qe4,Nc5,Qxg6,Qd2,Kg2,Nd3,Qxe6+,Kh7,Rhf1,h5,Ne8,h4,Nf6+,Kh8,Bxh4', 'Nf4+,Kh1,Nxe6', 'https://lichess.org/training/3RUHt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3RXWq', 'Rapid', 'Rathee', 1757, 'EezeeG', 1768, 'e4,c6,d4,d6,Nf3,Nf6,Nc3,b5,a3,g6,Bg5,Bg7,e5,dxe5,Nxe5,Nd5,Nxd5,Qxd5,c4,bxc4,Bxc4,Qe4+,Qe2,Qxe2+,Kxe2,f6,Nf7,Rf8,Be3,Rxf7,Bxf7+,Kxf7,Rac1,a5,d5,Ba6+,Kd2,cxd5,Rc7,f5,Bc5,Bxb2,Rxe7+,Kg8,Rhe1,Nc6,Rc7,Nd4,Bxd4,Bxd4,Ree7,Rb8,Rxh7,Be5,Ra7,Bd4,Rad7,Rb2+,Kc1,Bb5,Rc7,Rxf2,Rhe7,Bb2+,Kd1,Kf8,Rh7,Kg8,Rhe7,Kf8,Rh7,Kg8,Rhe7,Bxa3', 'Rc8+,Be8,Rcxe8#', 'https://lichess.org/training/3RXWq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3s0VH', 'Rapid', 'MimiK17', 1735, 'bichopebitou', 1846, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Nc3,g6,Nxd5,Qxd5,c4,Qe4+,Be2,Nc6,d3,Qg4,g3,Qh3,Ng5,Qg2', 'Bf3,Bg4,Bxg2', 'https://lichess.org/training/3s0VH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3S1Zp', 'Rapid', 'solarchik', 1658, 'krbo', 1671, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Ne2,Qb6,Qd3,a6,Bxc6,Bxc6,O-O,Ne7,Kh1,Nf5,g4,Nh6,h3,Be7,f4,O-O,f5,Bb5,Qc2,cxd4,cxd4,Rac8,Qb3,exf5,gxf5,Bh4,Nbc3,f6,a4,fxe5,Qxd5+,Kh8,axb5,Nxf5,bxa6,bxa6,Qxe5,Ng3+,Nxg3,Qc6+,Kh2', 'Bxg3+,Kxg3,Rxf1', 'https://lichess.org/training/3S1Zp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3s2dZ', 'Blitz', 'flav22', 1889, 'morides1987', 1777, 'e4,d6,d4,Nf6,e5,dxe5,dxe5,Qxd1+,Kxd1,Ng4,Nh3,Nxe5,Bf4,Nbd7,c3,b6,Kc2,Bb7,Kd2,g6,Kc2,Bg7,Nd2,O-O-O,Re1,h6,Bb5,f6,f3,a6,Bxd7+,Rxd7,Bxe5,fxe5,Nc4,Rhd8,Re2,e4,fxe4,b5,Na5,Ba8,Nf4,g5,Ne6,Rg8,Nc5,Rd6,Nab3,Rgd8,Rf1,Bf8,e5,Rd5,Nxa6,e6,Rf7,R5d7,Ref2', 'Be4+,Kc1,Rd1#', 'https://lichess.org/training/3s2dZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3s462', 'Rapid', 'BERNARDITO07', 2145, 'Russia_2009', 1961, 'd4,e6,c4,f5,Nc3,Nf6,Nf3,Be7,g3,O-O,Bg2,Nc6,O-O,Rb8,d5,Na5,Nd2,b6,a3,a6,b4,Nb7,e4,fxe4,Ndxe4,Qe8,dxe6,dxe6,Bb2,Bd6,Qe2,Nxe4,Nxe4,e5,Ng5,Qg6,Bd5+,Kh8,h4,h6,Ne4,Nd8,c5,c6,Bc4,bxc5,bxc5,Bc7,Bc3,Ne6,Bd3,Nf4,Qe3,Nh3+,Kh2,Qf7,Nd6,Bxd6,cxd6,Nxf2,Be2,Qf5,Bxe5', 'Qh3+,Kg1,Qh1#', 'https://lichess.org/training/3s462');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3s7OB', 'Rapid', 'l___l___l___l___l', 1848, 'Saleh111', 1835, 'e4,e5,Nf3,d6,Nc3,Nc6,Bc4,Nf6,d3,Be7,Bg5,Nd4,h4,h6,Bxf6,Bxf6,Nxd4,exd4,Nd5,Be5,f4,Bf6,g3,c6,Nxf6+,Qxf6,O-O,Qg6,Kh2,Bg4,Qe1,c5,e5,O-O-O,Bd5,f6,Bg2,dxe5,f5,Bxf5', 'Rxf5,Qxf5,Bh3', 'https://lichess.org/training/3s7OB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3sbVH', 'Rapid', 'walderek123', 1848, 'MrPeachapple', 1886, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,exd4,Qxd4,Be6,O-O,Nf6,Bg5,Be7,Nc3,h6,Bh4,O-O,Rad1,c5,Qd3,Rb8,b3,Rb4,e5,Nd7,Bxe7,Qxe7,exd6,cxd6,Qxd6,Qf6,Na4,Qg6,Nxc5,Nxc5,Qxc5,Rb6,Rfe1,Rc8,Rxe6,Qxe6,Qa5,Rxc2,Qxa7,Ra6,Qb8+,Kh7,a4,Rb6,Qe5,Qxb3,a5,Rb5,Qe4+,f5,Qh4,Rc4', 'Ng5+,Kg6,Rd6#', 'https://lichess.org/training/3sbVH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3SEtZ', 'Rapid', 'bastou14078', 1941, 'tuzikI', 1898, 'e4,e5,f4,Bc5,c3,a6,Nf3,d6,Bc4,Nc6,d3,Qf6,Qe2,Nge7,Be3,Bxe3,Qxe3,exf4,Qe2,Ne5,Nxe5,dxe5,O-O,Ng6,Nd2,Qb6+,Kh1,Qxb2,Rfc1,Qb6,Rab1,Qd6,h3,O-O,Nf3,b5,Bb3,h6,d4,c5,dxc5,Qxc5,c4,Bb7,cxb5,Qxb5', 'Bxf7+,Rxf7,Rxb5', 'https://lichess.org/training/3SEtZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3sFeH', 'Rapid', 'Drovosek59', 2024, 'jt79', 1882, 'd4,d5,c4,c6,e3,Nf6,Nc3,e6,Nf3,Be7,Bd2,Nbd7,cxd5,exd5,Bd3,O-O,O-O,Re8,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bd3,Bg4,h3,Be6,Bc3,h6,Ne5,Qc8,Qf3,Bd5,Qg3,Ne4,Bxe4,Bxe4,d5,Bd6,f4,Bc5+,Kh1,Bf8,dxc6,Bxc6,Rac1,Re6,Nxc6,Rxc6,f5,f6,Rce1,b5,a3,a5,Re4,Bxa3,Bxf6,Rxf6,bxa3,Rxf5,Rfe1,Qd7,Re7,Qd4,Qg6,Raf8,Re8,Rxe8', 'Rxe8+,Rf8,Qe6+,Kh7,Rxf8', 'https://lichess.org/training/3sFeH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3SFgn', 'Classical', 'Antiterror76', 1666, 'Thuan612k1', 1699, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Be7,Bf4,O-O,e3,Nbd7,h3,c5,dxc5,Nxc5,b3,a6,Qc2,Nh5,Bh2,Bd6,Bxd6,Qxd6,Bd3,Nf6,O-O,Nxd3,Qxd3,Rb8,cxd5,Nxd5,Nxd5,exd5,e4,Be6,Ng5,h6', 'e5,Bf5,Qxf5,Qg6,Qxg6', 'https://lichess.org/training/3SFgn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3sFS4', 'Bullet', 'Sloper73', 1845, 'CoffeeArabica', 1890, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,O-O,Nc6,d5,Ne7,Ne1,Nd7,Be3,f5,f3,f4,Bf2,g5,Nd3,Nf6,c5,h5,cxd6,cxd6,Rc1,g4,Nb5,g3,hxg3,fxg3,Bxg3,Ng6,Bh2,Nh7,Nc7,Qg5,Nxa8,Bh3,Ne1,Rxa8,Kh1,Nf4,Bxf4,Qxf4,gxh3,Ng5,Rg1,Nxh3,Rg2,Qh4,Rh2,Nf2+,Kg1,Qg3+,Rg2,Qh4,Rxf2,Bh6,Rg2+,Kh7,Rc7+,Kh8,Nd3,Be3+,Kf1', 'Qh1+,Rg1,Qxg1#', 'https://lichess.org/training/3sFS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3SID2', 'Blitz', 'Arash_Jan', 1775, 'Hyperm', 1793, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,Nc6,Qd2,e5,d5,Ne7,h4,c6,h5,a6,hxg6,fxg6,Bh6,b5,Bxg7,Kxg7,Qh6+,Kg8,Nh3,Kh8,Ng5,Neg8', 'Qxh7+,Nxh7,Rxh7#', 'https://lichess.org/training/3SID2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3skWx', 'Rapid', 'nodari1509', 2027, 'DAG_CHESS', 2015, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,f6,exf6,Ngxf6,Re1,Qb6,Qe2,O-O-O,Qxe6,Bd6,Qh3,Rhe8,Rxe8,Rxe8,d3,Kb8,b3,c4,dxc4,dxc4,Be3,Bc5,Bxc5,Qxc5,Nbd2,cxb3,cxb3,Re2,Qg3+,Ka8,h3,Qc3,Re1', 'Rxe1+,Nxe1,Qxd2', 'https://lichess.org/training/3skWx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3slhD', 'Classical', 'makan14', 1876, 'tolga48', 1900, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nge7,a3,O-O,O-O,d6,h3,h6,Be3,Bb6,Nc3,Kh8,Qd2,Kh7,Ne2,f5,Ng3,f4,Bxb6,fxg3,Be3,gxf2+,Rxf2,Ng6,Raf1,Qe7,Bd5,Be6,Bxe6,Qxe6,c3,Rad8,c4,Nce7,h4,Kg8,Bxh6,gxh6,Qxh6,Qg4,Ng5,Qxh4', 'Rxf8+,Rxf8,Rxf8+,Nxf8,Qxh4', 'https://lichess.org/training/3slhD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3sn9O', 'Blitz', 'FM Kramnick95', 2424, 'simplesimpson03', 2302, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,O-O,b6,Re1,Be7,Qf3,Bb7,Bxe6,fxe6,Nxe6,Qc8,Nxg7+,Kf7,Nf5,Rg8,Nh6+,Kg7,Qg3+,Kh8', 'Nf7#', 'https://lichess.org/training/3sn9O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3sNsD', 'Rapid', 'IlCorsaroNero', 1837, 'Fooses', 1797, 'e4,c5,f4,d6,Nf3,e6,Nc3,b6,Bc4,Bb7,O-O,Be7,f5,exf5,exf5,Nf6,Bb5+,Nbd7,Re1,O-O,Bc4,Re8,d4,Bxf3,Qxf3,cxd4,Nd5,Ne5,Qf1,Qc8,Nxe7+,Rxe7,Bg5,Qxc4', 'Qxc4,Nxc4,Rxe7', 'https://lichess.org/training/3sNsD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3sOVY', 'Rapid', 'Wasyl8', 1654, 'Estinocaico', 1687, 'e4,e6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Ne7,Bg5,Qb6,b3,Nbc6,Bb5,Bd7,Bxc6,Nxc6,Nxc6,bxc6,O-O,Bc5,Nc3,Bd4', 'Na4,Bxa1,Nxb6', 'https://lichess.org/training/3sOVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3SOZJ', 'Classical', 'Gamma1', 1759, 'fairnessfirst', 1749, 'e4,c5,Nf3,b6,d4,e6,Nc3,Bb7,dxc5,Bxc5,Bc4,Ne7,O-O,O-O,Bg5,h6,Bh4,Qc7,Bg3,Qd8,Bd6,Bxd6,Qxd6,Qc8,Bb3,Nbc6,Rad1,Rd8,Ba4,Kf8,Rfe1,Ke8,Qg3,Kf8,Nb5,d5,Nd6,Qd7,e5,Nc8,Nxb7,Qxb7,Rd4,Nxd4,Nxd4,Ne7,Qf4,Qc8,Re3,Kg8,Rc3,Qa6,Rf3,Rf8,b3,Qa5,g4,Qe1+,Kg2,Ng6,Qg3,Qe4,Nc6,Rac8,Kf1,Qxc2,Rc3,Qb1+,Kg2,Qxa2,h4,Qd2,h5,Nf4+,Kh2,Kh8,Rf3,Ne2,Qh4,Nd4,Nxd4,Qxd4,Qe7,Qxe5+,Kg2,a6,Bd7,Ra8,Rxf7,Qe4+,Kg3,Qe5+,Kh3,Rxf7,Qxf7,Qc3+,f3,Qxb3,Bxe6,a5', 'Bxd5,Qxd5,Qxd5', 'https://lichess.org/training/3SOZJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3SQlQ', 'Blitz', 'FM GNikolaou11', 2290, 'AlexanderBugaev', 2282, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,b6,g3,O-O,Bg2,d5,O-O,Bb7,Rd1,Ne4,Qf4,Nd7,Ne5,Nxe5,dxe5,f5,Nd2,c5,Nxe4,fxe4,Qd2,Qc7,cxd5,Bxd5,Qc3,Rf5,Rd2,Raf8,e3,Qxe5,Qxe5,Rxe5,b3,Ref5,Rc1,g5,Bh3,R5f6,Bg4,Kg7,Kg2,Kg6,h4,h5,hxg5,Kxg5,Bh3,Rh6,Rh1,h4,Rdd1,Rfh8,g4,Rf6,Rd2,Rf3,Rg1,Rhf8,Rf1,Bb7,Rc1,a5,Rcc2,Bd5,Re2,R3f7,Rcd2,a4,Re1,axb3,axb3,Bxb3,Rb1,Ba4,Rxb6,Bd7,Rbd6,e5', 'Rxd7,Rxd7,Rxd7', 'https://lichess.org/training/3SQlQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3SrkZ', 'Classical', 'The24Kcarrot', 1665, 'Jb2304', 1658, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,b3,cxd4,Nxd4,Nxd4,Qxd4,Ne7,Ba3,Nf5,Qa4+,Bd7,Qg4,Qa5+,c3,Bxa3,b4,Qa4,Bd3,Bb2,O-O,Bxa1,Bxf5,exf5,Qxg7,O-O-O,Qxf7,Qxa2,e6,d4', 'exd7+,Kb8,Qxa2', 'https://lichess.org/training/3SrkZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3sTVu', 'Rapid', 'chesskingpiyush', 2011, 'hvcm', 2027, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bg6,Bxg6,hxg6,Nc3,e6,Be3,a6,a3,Ne7,Nge2,Nf5,Qd2,Qb6,b4,Nd7,h3,Nh4,Rg1,a5,Rb1,axb4,axb4,Bxb4,Qd3,Ra3,Bd2,O-O,g3,Nf5,Kf1,Rfa8,Kg2,Qa5,Rb3,Ra1', 'Rxa1,Qxa1,Rxb4', 'https://lichess.org/training/3sTVu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3SVFT', 'Classical', 'Slartibartfast_84', 1687, 'Sergevigneault', 1664, 'd4,e6,c4,Nf6,Nf3,Bb4+,Nc3,d5,Qb3,Na6,a3,Bxc3+,Qxc3,O-O,e3,c5,dxc5,Nxc5,Be2,Nfe4,Qd3,dxc4,Qxd8,Rxd8,Bxc4,b6,O-O,Nd6,Ba2,Ba6,Rd1,Be2,Rd2,Bxf3,gxf3,Ndb7,Rxd8+,Rxd8,b4', 'Rd1+,Kg2,Nd3', 'https://lichess.org/training/3SVFT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3SXlV', 'Blitz', 'Bassam74', 1789, 'capecodfutbol', 1830, 'd4,e6,e4,d5,Bd3,dxe4,Bxe4,Nf6,Bd3,Be7,Nf3,O-O,O-O,c5,c3,Nc6,Be3,Qb6,Qc2,cxd4,Nxd4,Nxd4,Bxd4,Qa5,Nd2,h6,Ne4,Nd5,f4,Bd7,b4,Qd8,Ng3,Bc6,Nh5,Nxb4', 'Bh7+,Kh8,Bxg7#', 'https://lichess.org/training/3SXlV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3synm', 'Rapid', 'arhdv', 2038, 'IRON-71', 1996, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,Rb8,Nc2,Bg5,Bd3,Be6,Nce3,Bxe3,Nxe3,O-O,O-O,Ne7,Nd5,Bxd5,exd5,f5,Bc2,Qb6,Kh1,Qc5,Bb3,a5,a3,b4,axb4,axb4,c4,e4,Qe2,Ng6,Qe3,Qxe3,fxe3,Ne5,Ra6,Rbc8,Rxd6,Nxc4,Rc6,Nd2,Rxf5,Rxc6', 'dxc6+,Nxb3,Rxf8+,Kxf8,c7', 'https://lichess.org/training/3synm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3TaAN', 'Rapid', 'chetan16', 1739, 'mohankopparapu', 1722, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,e5,Nd5,c4,Nb4,a3,N4c6,Nxc6,Nxc6,Nc3,Be7,Bf4,O-O,Be2,f6,exf6,Bxf6,Qc2,Nd4,Qd2,Nb3,Qd1,Nxa1,Qxa1,d5,Bg3,Bxc3+,bxc3,dxc4,O-O,b5,Rd1,Qf6,Bf3,Ba6,Bxa8,Rxa8,a4,bxa4,Qxa4,Bb7,Qxc4,Bd5,Qc7,Rf8,c4,Bxg2,Kxg2', 'Qf3+,Kg1,Qxd1+', 'https://lichess.org/training/3TaAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Tbd4', 'Blitz', 'rabbit-a', 2324, 'FM lexisvar', 2395, 'Nf3,d5,d4,Nf6,e3,c5,c4,Nc6,Nc3,cxd4,Nxd4,Nxd4,Qxd4,dxc4,Qxd8+,Kxd8,Bxc4,e6,Bd2,Bd6,Ke2,Ke7,Rhd1,Bd7,Nb5,Be5,Bc3,Bxb5', 'Bb4+,Bd6,Bxd6+', 'https://lichess.org/training/3Tbd4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3TdCk', 'Rapid', 'MRX81', 1710, 'Whitewing', 1828, 'e4,c5,d4,cxd4,c3,d3,Be3,b6,Qxd3,Ba6,c4,Nc6,b3,e6,Nf3,Nf6,Be2,Nb4,Qd1,Nxe4,O-O,d5,Ne5,Rc8,a3,Bd6,axb4,Bxe5,Rxa6,O-O,Rxa7,Qh4,g3,Nxg3,fxg3,Bxg3,Rf2,Bxf2+,Bxf2,Qg5+,Kh1,dxc4,bxc4,Rcd8,Qg1,Qf5,Nc3,Rd2,Ra2,Rxa2,Nxa2,Qc2,Nc1,Rd8,Be3', 'Qe4+,Qg2,Qxe3', 'https://lichess.org/training/3TdCk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3TdEe', 'Classical', 'zakarov', 1791, 'heyfilho', 1836, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nf3,Nxe4,c3,Qb6', 'Qa4+,Nd7,Qxe4', 'https://lichess.org/training/3TdEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3tDOC', 'Rapid', 'SilberLocke-51', 2014, 'Signoretomato', 1847, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd5,b5,c4,O-O,cxb5,axb5,Bxb5,Rxa3,bxa3,Qa5+,Qd2,Qxb5,Nxf6+,gxf6,Rd1,Nd4,f4,Bg4,Rc1,Bf3,Rc3,Qb1+,Rc1,Qxe4+,Kf2,Bxg2,Rhg1,Qf3+,Ke1,Qe4+,Kf2,Nf3,Rxg2+,Kh8,Qe3,Qxe3+,Kxe3,Nh4,Rd2,exf4+,Kxf4,Ng6+,Kf5,Kg7,Rxd6,Re8,Rg1', 'Re5+,Kg4,Rg5+,Kf3,Rxg1', 'https://lichess.org/training/3tDOC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3TENj', 'Rapid', 'Abelardo01', 1751, 'chessdee', 2107, 'd4,e6,Nf3,Nf6,g3,Be7,Bg2,O-O,c4,d5,O-O,c6,Nc3,Nbd7,Qd3,Re8,e4,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qe2,Qb6,Be3,Ng4,Bc1,c5,h3,Nf6,Be3,cxd4,Bxd4,Bc5,Bxc5,Qxc5,Rfe1,Bd7,Ne5,Bc8,Rad1,Rb8,Rd2,b6,b4,Qc7,Nc6,Bb7,Nxb8,Bxg2,Kxg2,Rxb8,Qe5,Qxe5,Rxe5,Kf8,a4,Rc8,c5,Nd5,cxb6,axb6,a5,bxa5,bxa5,Ra8,Ra2,Ke7,Ree2,Nc3,Rec2,Nxa2,Rxa2,Kd6,Rd2+,Ke7,Ra2,Ra7,a6,Kd6,Rd2+,Kc6,Rc2+,Kb6,Rc8,Kxa6,Rh8,h6,Rh7,f6,g4,Kb6,f4,Ra3,Rxg7,Kc6,Rg6,Kd5,Rxf6,Ra4,Kg3,Ra3+,Kh4,Rf3,f5,e5,Rxh6,e4,Rh5,e3,f6+,Kd4,Rf5', 'Rxf5,gxf5,e2,f7,e1=Q+', 'https://lichess.org/training/3TENj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3TfMR', 'Rapid', 'paramirez', 1746, 'mohammd-1951', 1908, 'Nf3,g6,g3,Nf6,Bg2,c6,e4,Bg7,d3,d6,O-O,Bg4,Bg5,Nbd7,Qd2,Bxf3,Bxf3,h6,Bf4,e5,Be3,g5,c4,c5,Nc3,a6,Nd5,Nxd5,exd5,O-O,Be4,f5,Bf3,Qf6,Qc2,g4,Be2,f4,gxf4,exf4,Bxg4,Ne5,Be6+,Kh8,Bd2,Qg5+,Kh1,Nf3,Rg1,Nxg1,Rxg1,Qe7,Bc3,Be5,Bxe5+,dxe5,f3,Rf6,Qg2,Rxe6,dxe6,Re8,Qg6,Qf8,Qf7,Qxf7,exf7,Rf8,Rg6,Kh7,Re6,Rxf7,Rxe5,Rd7,Rxc5,Rxd3,Rc7+,Kg6,Rxb7,Rxf3,Rb6+,Kg5,Kg2,Rd3,Rxa6,h5,Ra5+,Kg4,h3+,Rxh3,c5', 'f3+,Kf2,Rh2+', 'https://lichess.org/training/3TfMR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3tJ9H', 'Rapid', 'shakaali', 2020, 'Twenty-CharacterName', 2036, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ne5,h5,Bc4,d5,Bxd5,Be6,Bxe6,fxe6,Ng6,Rh7,Nxf8,Kxf8,d4,Nf6,Bxf4,Nc6,Bg5,Qxd4,Bxf6,Qxf6', 'Rf1,Qxf1+,Kxf1', 'https://lichess.org/training/3tJ9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3tQxW', 'Rapid', 'Zitti', 1715, 'Oo_Achilles_oO', 1730, 'd4,Nf6,c4,g6,Bd2,Bg7,Bc3,O-O,Nf3,d6,Nbd2,c5,d5,Nbd7,e4,Nb6,e5,dxe5,Nxe5,Re8,Ke2,Ng4,Nxg4,Bxg4+,f3,Bf5,Bxg7,Kxg7,Kf2,e6,dxe6,Rxe6,Be2,Qd4+,Kf1,Rd8,Nb3,Qxd1+,Rxd1,Rxd1+,Bxd1,Nxc4,Nxc5,Ne3+,Kf2,Re5,Re1', 'Nxd1+,Rxd1,Rxc5', 'https://lichess.org/training/3tQxW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3TrtA', 'Classical', 'clanp', 1750, 'wall89', 1893, 'd4,c6,c4,d5,Nf3,Bg4,e3,Nf6,Qb3,Qc8,Ne5,e6,h3,Bf5,Nc3,Bd6,Bd3,Bxe5,Bxf5,Bxd4,Bxe6,Bxc3+,bxc3,fxe6,cxd5,cxd5,Ba3,Ne4,Rc1,Qc4', 'Qxb7,Nd7,Qxa8+', 'https://lichess.org/training/3TrtA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3TssF', 'Rapid', 'pepeto94', 1681, 'rookie31', 1690, 'e4,e5,Nf3,Nc6,a3,Nf6,Nc3,Bc5,b4,Bb6,Bc4,O-O,h4,Ng4,O-O,d6,Nd5,Re8,Ng5,Be6,Nxb6,axb6,Nxe6', 'Qxh4,Qxg4,Qxg4', 'https://lichess.org/training/3TssF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3tTzD', 'Classical', 'Gatkuoth', 1690, 'alan25th', 1658, 'd4,d5,c4,e6,Bf4,dxc4,e3,Nf6,Bxc4,Bb4+,Nd2,Ne4,Nf3,O-O,O-O,Nxd2,Nxd2,Re8,Rc1,Nc6,a3,Bxd2,Qxd2,e5,Bg3,exd4,Rfd1,Be6,Bd3,dxe3,Qxe3,Bb3,Bxh7+,Kxh7,Qxb3,Qf6,Qxb7,Ne5,Rxc7,Rad8,Rxd8,Rxd8,h3', 'Rd1+,Kh2,Ng4+,hxg4,Qh6+,Bh4,Qxh4#', 'https://lichess.org/training/3tTzD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3tUAz', 'Blitz', 'IM ImIsmaelKarim', 2565, 'IM AttackingBeast', 2671, 'e4,c5,Nf3,e6,c3,Nf6,e5,Nd5,g3,Nc6,Bg2,d6,exd6,Bxd6,O-O,O-O,d4,cxd4,Nxd4,Bd7,Nb5,Be7,c4,Nb6,Qe2,a6,N5c3,Nd4,Qd3,Bc6,Rd1,Bxg2,Kxg2,e5,Be3,Rc8,Nd2,Qc7,Rac1,Rfd8,b3,Ba3,Rb1,Nxb3,Qe2,Nd4,Bxd4,exd4,Nce4,Qc6,Qf3,Re8,Qxa3,Nxc4,Qf3,Ne5,Qf4,Ng6,Qf5,Re5,Qf3,Rce8,Rbc1,Qd5,Nc5,Qxa2,Nxb7,Rg5,Nd6', 'Nh4+,Kg1,Nxf3+', 'https://lichess.org/training/3tUAz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3TuSj', 'Rapid', 'heshamfouad', 1875, 'sameer29', 1774, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,O-O,O-O,d3,a6,a3,h6,Be3,Be7,Ne2,b5,Ba2,d5,Ng3,d4,Bd2,Bg4,Qc1,Bxf3,gxf3,Kh7,Kh1,Ng8,Rg1,Bg5,Nf5,Bxd2', 'Rxg7+,Kh8,Qxd2', 'https://lichess.org/training/3TuSj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3TW43', 'Blitz', 'gabelerner', 2155, 'Aldrinecoben', 2224, 'd4,Nf6,Bf4,d5,e3,Bf5,Nf3,e6,Bd3,Bg4,c3,c6,Nbd2,Nbd7,Qc2,Rc8,h3,Bh5,g4,Bg6,Bxg6,hxg6,Ne5,Be7,Ndf3,Ne4,O-O-O,c5,Nxd7,Qxd7,Ne5,Qb5,f3,Ng5,Bxg5,Bxg5,f4,Be7,f5,cxd4,exd4,gxf5,gxf5,Bf6,fxe6,fxe6,Qg6+,Ke7,Qf7+,Kd6,Rhe1,Rc7', 'Nc4+,Qxc4,Rxe6#', 'https://lichess.org/training/3TW43');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ty6E', 'Rapid', 'Drinking_Beer', 1638, 'kramavarma', 1703, 'e4,e6,d3,c5,Nf3,Nc6,g3,Nf6,Bg2,d6,O-O,Be7,c3,O-O,Re1,Nd7,d4,cxd4,cxd4,Bf6,Bf4,e5,Be3,exd4,Nxd4,Nxd4,Bxd4,Nb6,Nc3,Re8,Bxf6,Qxf6,Nb5,Re7,Nxd6,Rd7,e5,Qd8,Qb3,Kf8,Rad1,Qe7,Nf5', 'Rxd1,Rxd1,Bxf5', 'https://lichess.org/training/3ty6E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3TZDM', 'Bullet', 'nikola1856', 2330, 'FM CoachRoelAbelgas', 2537, 'f4,e6,Nf3,g6,e4,Bg7,d4,d6,Nc3,Ne7,Bd3,O-O,h4,h5,Ng5,c5,dxc5,dxc5,Be3,b6,Qe2,Nbc6,O-O,Nd4,Qf2,Bb7,Rad1,Qc7,Ne2,Nxe2+,Qxe2,Nc6,c3,Rad8,g4,hxg4,Qxg4,Rxd3,Rxd3,Ba6,Rfd1,Bxd3,Rxd3,Rd8,Rxd8+,Qxd8,h5,Qd3,Kf2,gxh5,Qxh5,Nd8,Kf3', 'Qd1+,Kf2,Qxh5', 'https://lichess.org/training/3TZDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Tzk4', 'Rapid', 'Juozapas', 1993, 'arvind12', 1837, 'd4,e6,c4,c5,d5,Nf6,Nc3,Qa5,Nf3,Ne4,Qc2,Nxc3,Qxc3,Qxc3+,bxc3,exd5,cxd5,c4,a4,b6,a5,b5,e4,Bc5,Ba3,Na6,Bxc5,Nxc5,Be2,Nxe4,Ra3,O-O,O-O,Nf6,Nd4,a6,d6,Re8,Bf3,Rb8,Raa1,Bb7,Bxb7,Rxb7,Rfe1,Rbb8,Nf5,Ne4', 'Ne7+,Rxe7,dxe7', 'https://lichess.org/training/3Tzk4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3U2S7', 'Classical', 'winvin6054', 1713, 'kaipo', 1754, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Qe7,O-O,O-O,Re1,d6,e5,dxe5,Nxe5,Bxd2,Nxc6', 'Qxe1+,Qxe1,Bxe1', 'https://lichess.org/training/3U2S7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3u3i3', 'Rapid', 'ahmad239', 2057, 'v-Amateur', 2022, 'e4,g6,Bc4,Bg7,h3,e6,d3,d5,exd5,exd5,Bb3,Be6,Nf3,Nf6,Bg5,O-O,O-O,Qd6,Bh4,c6,c3,Qd7,Ne5,Qc7,Bg3,Nh5,Bh2', 'Bxe5,Bxe5,Qxe5', 'https://lichess.org/training/3u3i3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3u7Ot', 'Rapid', 'AlexisC1215', 1641, 'Crowned_Eagle', 1627, 'e4,e5,Nf3,d5,d4,dxe4,Nxe5,Bd6,Nc4,Nf6,Nxd6+,Qxd6,Nc3,Nc6,f3,Nxd4,Nxe4,Nxe4,fxe4,Qe5,Be3,Qxe4', 'Qxd4,Qxd4,Bxd4', 'https://lichess.org/training/3u7Ot');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ua8k', 'Rapid', 'ANTONIOvicenterecto', 1763, 'nebojsa1234', 1857, 'e4,e6,Nc3,c5,Bb5,a6,Be2,Nc6,Nf3,Bd6,d4,cxd4,Nxd4,Nxd4,Qxd4,Qc7,Qxg7', 'Be5,Qg5,Bxc3+,bxc3,Qxc3+,Qd2,Qxa1', 'https://lichess.org/training/3ua8k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3uatk', 'Blitz', 'FM Charly_Charly1', 2466, 'FM hectorluis2019', 2416, 'd4,Nf6,c4,g6,Nc3,Bg7,c5,d6,cxd6,cxd6,e4,O-O,Be3,Nc6,Bc4,Nxe4,Bxf7+,Rxf7,Nxe4,d5,Ng5,Rf8,N1f3,h6,Nh3,Bg4,Nhg1,e5,h3,Bxf3,Nxf3,exd4,Nxd4,Nxd4,Bxd4,Re8+,Kf1,Rf8,Bxg7,Kxg7,Qd4+,Kh7,Rd1,Rf7,Qxd5,Qf6,Rd2,Re8,g3,Re5,Qd4,Qf3,Qxe5,Qxh1+,Ke2,Qxh3,Rd6,Qg4+,Kf1,Qf3,Qd4,Re7,Rd7', 'Qh1#', 'https://lichess.org/training/3uatk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UdTU', 'Rapid', 'ali_sobhani', 1745, 'Kalaikovan', 1662, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,d4,cxd4,Qxd4,d6,Nc3,Bd7,e5,c5,Qd3,Bb5,Nxb5,axb5,Qxb5+,Qd7,Qxd7+,Kxd7,exd6,exd6,Bf4,Nf6,a3,Re8+,Kf1,Nd5,g3,Nxf4,gxf4,Re6,a4,Be7,a5,Ra8,a6,Bd8,Ng5,Bxg5,fxg5,d5,Kg2,Rexa6,Rxa6,Rxa6,Rd1,Kd6,Kf3,Ra4,b3,Rh4,Kg3,Re4,f3,Rd4,Rxd4,cxd4,f4,Kc5,Kf3', 'Kb4,Ke2,Kc3', 'https://lichess.org/training/3UdTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UeZj', 'Blitz', 'ranansbrett', 2001, 'adrianoyusuf', 2032, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,Nxe4,Nxe5,Nxe5,dxe5,d5,exd6,Nxd6,Bd3,Be7,O-O,O-O,Re1,Bf5,Bxf5,Nxf5,Qxd8,Raxd8,Nd2,Bc5,Nf3,h6,Bf4,c6,Rad1,Rxd1,Rxd1,Re8,h3,g5,Bh2,Re2,Rd2,Bxf2+,Kf1,Rxd2,Nxd2,Bg3,Bg1,Bf4,Ne4,Ne3+,Ke2,Nc4,b3,Nb6,Nc5,Nd5,Nxb7,Nxc3+,Kd3,Nxa2,Bxa7,Nb4+,Kc4,Na6,Nc5,Nc7,Bb6,Kf8,Nd3,Bg3,Kc5,Ne6+,Kxc6,Ke7,b4,h5,b5,f5,Bc5+,Nxc5,Nxc5,g4,hxg4,fxg4,Ne4,Be5,Kb7,h4,b6', 'h3,gxh3,gxh3,Kc6,h2,Kd5,h1=Q', 'https://lichess.org/training/3UeZj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UfI7', 'Blitz', 'marioben', 1636, 'williamehueyjr', 1700, 'd4,Nf6,Bf4,g6,Be5,Bg7,Bxf6,Bxf6,e3,b6,Bd3,Bb7,f3,e6,Nc3,Nc6,Ne4,Bg7,Ne2,Ne7,N4c3,Rc8,O-O,O-O,Ne4,d5,N4g3,c5,c3,Bh6,f4,Bg7,Qc2,Nc6,dxc5,bxc5,f5,c4,fxg6,cxd3,gxh7+,Kxh7,Qxd3+,Kg8,Nd4,Ne5,Qe2,Qg5,Rf4,Ng6,Rg4,Qf6,Rf1,Qe5,Nf3,Qd6,Nd4,e5,Ndf5,Qe6,Nxg7,Kxg7,Nh5+,Kh8,Nf6,Ba6', 'Rh4+,Nxh4,Qh5+,Kg7,Qh7#', 'https://lichess.org/training/3UfI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UgB5', 'Rapid', 'Mlnrbjn', 1778, 'The_Gurtel_Gangster', 1835, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Bb5,Bd6,Ng5,Ke7,Bc4,Rf8,O-O,h6,Nf3,Bg4,Nbd2,Bxf3,Nxf3,Nxe4,Re1,Nf6,Nd4,Nxd4,cxd4,e4,f3,Rae8,fxe4,Bb4,Re2,Kd8,e5,Nd7,a3,Ba5,b4,Bb6,Bb2,f6,e6,Nb8,Kh1,Nc6,Rd1,Ne7,d5,Kc8,d6,cxd6,Rxd6,Bc7,Rd1,Rd8,Red2,Rxd2,Rxd2,Rd8,Rxd8+,Kxd8,g3,Bb6,Kg2,Kc7,Kf3,Kd6,Ke4,Bc7,a4,a6,b5,axb5', 'Ba3+,b4,Bxb4+', 'https://lichess.org/training/3UgB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ugx3', 'Rapid', 'LeSarrasin', 2028, 'kobelev', 1803, 'f4,c5,Nf3,e6,c4,Nc6,g3,Nge7,Bg2,Ng6,O-O,Be7,b3,Bf6,Nc3,O-O,e4,Nd4,e5,Nxf3+,Qxf3,Be7,Ne4,Qc7,Ba3,Rb8,Qe3,b6,Nc3,a6,Rfd1,Bb7,Ne4,f5,Nf2,Bxg2,Kxg2,Rfd8,Qe2,Nf8,d4,d6,exd6,Bxd6,dxc5,Bxc5,Bxc5,Qxc5,Nd3,Qe7,Ne5,Rxd1,Rxd1,Rd8', 'Nc6,Qb7,Rxd8', 'https://lichess.org/training/3ugx3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Ui8O', 'Rapid', 'Pillock51', 1834, 'Roland19', 1630, 'c4,c6,g3,Nf6,Bg2,d5,Nf3,Bf5,cxd5,cxd5,Qb3,Qd7,Ne5,Qc7,O-O,e6,d4,Nc6,Bf4,Bd6,Rc1,Nxd4', 'Qa4+,b5,Qxd4', 'https://lichess.org/training/3Ui8O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3uj4r', 'Blitz', 'hodrigo', 1939, 'VictorValenciaCHESS', 1936, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,Bc5,Nd6+,Bxd6,Qxd6,Qe7,Qd3,Nf6,Nc3,Nb4,Qd1,d5,Nxd5,Nfxd5,exd5,Bf5,Bb5+,Kf8,Ba4,Rd8,c4,Bd3,a3,Nxd5,Qxd3,Nf4,Qg3,Nd3+,Kf1,Qc5,b3,Qd4,Rb1,Qe4,Qe3,Qf5,g4,Qxg4,Rg1,Qd1+,Kg2,Nf4+,Kh1', 'Qxg1+,Kxg1,Rd1+,Qe1,Rxe1#', 'https://lichess.org/training/3uj4r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UjiA', 'Rapid', 'Wilson_GVL', 1869, 'monokarbon', 1876, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e6,h3,Nf6,Nc3,a6,a3,Be7,Be2,O-O,O-O,b5,Be3,Bb7,f3,Nbd7,Nb3,Rc8,Nd4,d5,exd5,Bxd5,Nxd5,Nxd5,Bf2,Bf6,c3,Ne5,Rc1,Nb6,Nb3,Nbc4,Bxc4,Nxc4,Qxd8,Rfxd8,Nc5,Nxb2,Nxa6,Rxc3,Rxc3,Bxc3,Nc7,Rb8,Na6,Rb7,Nc5,Rb8,Rc1,Bf6,Nd7,Ra8,Nb6,Re8,Nd7,Nd3,Nxf6+,gxf6,Rb1,Nxf2,Kxf2,Rb8,a4,b4,a5,Kf8,Ke3,Ke7,Kd4,Kd6,Kc4,Rc8+,Kb5,Rc5+,Ka4,Rc2,Rxb4,Rxg2,Kb5,Rg5+,Kb6,Rf5,a6,Rxf3,Kb5,Rxh3', 'a7,Ra3,Ra4,Rxa4,Kxa4', 'https://lichess.org/training/3UjiA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UJmm', 'Rapid', 'NinjaOfRandomness', 2123, 'kingsmurder', 2168, 'e3,d5,Nf3,Bf5,d4,e6,c4,c6,Nc3,Nf6,Be2,Bd6,Ne5,Bxe5,dxe5,Ne4,Nxe4,Bxe4,f3,Bg6,Bd2,Qh4+,g3,Qe7,cxd5,exd5,Bc3,O-O,O-O,Nd7,f4,Be4,Qb3,Nc5,Qa3,Rfe8,Rac1,Nd3,Qxe7,Rxe7,Rcd1,Nc5,b4,Ne6,h4,g6,g4,Ng7,a4,Rb8,Bd4,b6,Rc1,Rc7,e6,Re8,Be5,Rce7,exf7+,Kxf7,Rxc6,Kg8,Rfc1,d4,Bc4+,Kh8,Rc7,Rxc7,Bxc7,Rc8,Ba6,Rf8,exd4,Ne6,Be5+,Kg8,Bc4,Kf7,Rf1,Ke7,d5,Rc8,Ba6,Rc2,Rf2,Rc1+,Rf1,Rc2,Rf2,Rc1+,Kh2,Rh1+,Kg3,Rg1+,Kh3,Nc7,Bxc7,Bxd5,Re2+,Kd7,Be5,Bf3,Rd2+,Ke7,Bd6+,Kf6,Be5+,Ke7,g5,Rh1+,Rh2,Rg1,Be2,Be4,Bf6+,Ke6,Bg4+,Kd5,Rd2+,Kc4,a5,Rh1+,Rh2,Rg1,axb6,axb6,Be6+,Kxb4,Bg4,Bd3,Be7+,Kb5,Bf3', 'Bf5+,Bg4,Bxg4#', 'https://lichess.org/training/3UJmm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3uKhd', 'Classical', 'Highlander-NS', 1837, 'JonathanGartin', 1813, 'd4,d5,Bf4,e6,Nf3,Nc6,c3,Bd6,Ne5,Nge7,Qa4,Bd7,Qc2,Nxe5,dxe5,Bc5,e3,Ng6,Bg3,Qg5,Be2,a6,Nd2,Bb5,Bxb5+,axb5,Nf3,Qh5,O-O,O-O,a3,c6,Rad1,Ra4,Rd2,Bb6,Rfd1,Bc7,Rd4,Nxe5,Nxe5,Bxe5,Bxe5,Qxe5,Rxa4,bxa4,Qxa4,Qh5,h3,Qe2,Rb1,h6,Qd1,Qc4,Qd4,Qa2,Qd1,Ra8,Qc1,Qc4,Qe1,f6,f3,e5,Kh1,Qd3,Rd1,Qc2,Qd2,Qb3,Re1,Qa2,Re2,Kf7,Kh2,Ke6,f4,Qc4,fxe5,fxe5,Qc2,Rf8,Rf2,Rf6,Rxf6+,Kxf6,Qf2+,Ke6,g4,Qe4,Kg3,g5,Qf3,Qc2,Qf2,Qxf2+,Kxf2,Kd6,Kf3,Kc5,Ke2', 'Kc4,Kd2,Kb3', 'https://lichess.org/training/3uKhd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Ulo9', 'Rapid', 'hosein1382', 2105, 'Volodya51', 2157, 'd4,Nf6,c4,e6,Nc3,Be7,f3,O-O,e4,d6,Bd3,Nbd7,Nge2,a6,Bd2,b6,Qc2,h6,O-O-O,c5,d5,e5,Rdg1,b5,g4,bxc4,Bxc4,Nb6,Na4,Nxc4,Qxc4,Bd7,Qc2,Bxa4,Qxa4,Nd7,Ng3,Nb6,Qc2,Bg5,Nf5,Bxd2+,Qxd2,Nc4,Qe2,Qg5+,Kb1,Nb6,h4,Qf4,Qe3,Qxe3,Nxe3,Rfb8,Kc2,a5,Nf5,Rd8,g5,h5,Ne3,g6,Rf1,a4,f4,Re8,f5,Kg7,Rhg1,Rac8,Kc3,Rf8,f6+,Kg8,Nc4,Nxc4,Kxc4,Rb8,Rg2,Rb4+,Kd3,Rfb8,Rff2,Rd4+,Kc3,Rbb4,b3,Rxe4,Rb2,a3,Rbd2,Rxh4,Rd3,Rhg4,Rdg3,Rgd4,Rd2,Rxd2,Kxd2,Rd4+,Rd3,Rg4,Kc3,Rxg5,b4,cxb4+,Kxb4,Rf5,Kxa3,Rxf6,Kb4,Rf4+,Kb5,h4,a4,g5,a5,g4,a6,Rf3', 'Rxf3,gxf3,a7', 'https://lichess.org/training/3Ulo9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UlSN', 'Rapid', 'Dzaniplays', 1614, 'lure', 1729, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bd7,a3,Nf6,d3,Be7,Be3,h6,h3,O-O,O-O,a6,Bc4,Kh8,Nh4,Nxe4,Nxe4,Bxh4,d4,f5,d5,fxe4,dxc6,Bxc6,Bd5,Bg5,Bxg5,Qxg5,Re1,Rf3,Bxc6,bxc6,Rxe4,Rxh3', 'Rg4,Qh5,gxh3', 'https://lichess.org/training/3UlSN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UnES', 'Rapid', 'Szachol', 1777, 'mrarjmand0', 1802, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Nf6,e5,Nd5,Nc3,c6,Nf3,Be7,O-O,O-O,Re1,Nd7,Qc2,N7b6,Bb3,Nxc3,bxc3,Nd5,c4,Nb4,Qc3,Na6,a4,Bd7,Ba3,Bxa3,Rxa3,Rb8,Raa1,b5,axb5,cxb5,Rxa6,bxc4,Qxc4,Bb5,Qc5,Bxa6,Qxa7,Rxb3,Qxa6,Rb8,Qd3,h6,h4,Qb6,Qe4,Qb7,Qf4,Qd5,g4,Rb3,Nh2,Rd3,g5,Rxd4,Qg3,hxg5,Qxg5,Re4,Ng4,Rxe1+,Kh2,Qh1+,Kg3,Qg1+,Kh3,Re4', 'Nf6+,Kh8,Qh5#', 'https://lichess.org/training/3UnES');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UonJ', 'Blitz', 'salar62', 1669, 'Ultrascacchi', 1639, 'd4,d5,e3,e6,c4,Nf6,c5,b6,cxb6,axb6,Nc3,Ba6,Bxa6,Nxa6,Nf3,c5,O-O,Be7,Ne5,c4,Qa4+,Kf8,Nc6,Qc7,Nxe7,Kxe7,Qc2,g6,a3,Rab8,Nb5,Qd7,Qa4,Nc7,Qb4+,Kd8,Nxc7,Qxc7,a4,Ne4,Bd2,Nxd2,Qxd2,Ke8,Rfc1,Kf8,b3,Kg7,bxc4,dxc4,Qb4,Rhc8,Qc3,f6,a5,bxa5,Rxa5,Rb3,Qa1,Qc6,Ra6,Qd5,Ra7+,Kh6,Qa6,c3,Qxc8,c2,Rxc2,Rb1+,Rc1,Qb3,Rc7', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/3UonJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UpnF', 'Classical', 'Lem0n4ik', 1738, 'Romaissae', 1727, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bd6,Nf5,Bc5,Qf3,Qf6,Qc3', 'Bb4,Bd2,Bxc3', 'https://lichess.org/training/3UpnF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3uTON', 'Blitz', 'FM andysamuelson', 2506, 'Hazzibaba', 2414, 'e4,e5,Bc4,Nc6,Nc3,Nf6,d3,Be7,f4,exf4,Bxf4,d6,Nf3,O-O,Qd2,Nh5,Be3,Ne5,Nxe5,dxe5,O-O,Nf4,Bxf4,exf4,Qxf4,Be6,Bb3,Qd4+,Kh1,Bd6,Qf2,Qe5,g3,Bh3,Rfe1,Qh5,d4,c6,e5,Be7,Ne4,Kh8,Qe3,Rad8,Nf2,Bf5,c3,Qg6,g4,Be6,Qg3,Bxb3,axb3,a6,Qd3,Qe6,b4,Bh4,Qf3,f6,exf6,Qxf6,Qxf6,Rxf6,Nd3,Bxe1,Rxe1,Rf3,Nc5,Rdf8,Nxb7,Rf1+,Rxf1,Rxf1+,Kg2,Rb1,Na5,Rxb2+,Kf3,Rc2,c4,Kg8,c5,Kf7,Nxc6,Ke6,Ke4,Re2+,Kd3,Rxh2,Kc4,Rc2+,Kd3,Rc1,Nb8,Kd5,Nxa6,Rd1+,Kc3,Rxd4,b5,Rc4+,Kd3,Rxg4,c6,Rg3+,Ke2,Kd6,c7,Rc3,b6,Kd7', 'b7,Rxc7,b8=Q', 'https://lichess.org/training/3uTON');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3uUNR', 'Bullet', 'sanicarlsen', 1564, 'EmptyMug', 1547, 'e4,e5,c3,Nc6,d3,d6,Nf3,Bg4,Be2,Qf6,O-O,g6,Bg5,Qe6,Nbd2,Bh6,Nc4', 'Bxf3,Bxh6,Bxe2,Qxe2,Nxh6', 'https://lichess.org/training/3uUNR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UUwo', 'Rapid', 'shahka', 1821, 'August_Lenz', 1828, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,Nc3,a6,Bd3,Nf6,h3,Ng6,O-O,Be7,Bg5,h6,Be3,O-O,Ne2,c6,c4,Bd7,Nh4,Nxh4,f4,exf4,Nxf4,Ng6,Nxg6,fxg6,e5,dxe5,Bxg6,cxd5,cxd5,Bb5,Rf2,Qxd5,Rd2,Qe6,b3,Rad8,a4,Rxd2,Qxd2,Be8,Bd3,g5', 'Bc4,Qxc4,bxc4', 'https://lichess.org/training/3UUwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UW1K', 'Rapid', 'TheNotoriousNIG', 1804, 'KingMCChickenwing', 1785, 'd4,d5,Bf4,Nf6,e3,Bf5,Bd3,Bxd3,Qxd3,c6,h3,e6,Nf3,Bd6,Ne5,Bxe5,Bxe5,Nbd7,Bg3,Ne4,Bf4,Qb6,Qb3,Qxb3,axb3,a6,Nc3,Ndf6,O-O,Nxc3,bxc3,Ne4,c4,dxc4,bxc4,Nd2,Rfd1,Nxc4,Rab1,b5,Rb4,O-O,Ra1,a5,Rb3,a4,Rb4,g6,e4,Rfd8,Rd1,a3,d5,exd5,exd5,a2,Ra1,Rxd5,Rb3,Rd4,g3,Rdd8,Rc3,Re8,Rd3,Re2,c3,Rb2,Rdd1,Rb3,Rdc1,f6,Kg2,Ne5,Bxe5,fxe5,Rc2,Rb1,Raxa2,Rxa2,Rxa2,Rb3,Rc2,Kf7,Kf3,Ke6,Ke4,h6,c4,b4,Ra2,Ra3,Rb2,c5,Rd2,b3,g4,Ra2,Rd1,b2,Rb1,Ra4,Rxb2,Rxc4+,Kf3,Rb4,Rc2,Kd5,Ke3,Re4+,Kd3,Rd4+,Ke3,Re4+,Kd3,c4+,Kd2,Rd4+,Ke3,Rd3+,Ke2,Kd4,f3,Re3+,Kf2,c3,h4,Kd3', 'Rxc3+,Kxc3,Kxe3', 'https://lichess.org/training/3UW1K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3uxcm', 'Blitz', 'ondrej2911', 1829, 'GuerreroAzteK', 1965, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Bd2,Qxb2,Nc3,Nb4,Nd4,c6,e4,Bc5,Rb1,Qa3,Nb3,Be7,Bc1,Nxc2+,Qxc2,Qb4,Bd3,Nh6,O-O,Ng4,Nd2,Qa5,Nc4,Qc7,Nd6+,Kf8,Nxc8,Rxc8,f4,b5,Ne2,Qb6+,Kh1,Nf2+,Rxf2,Qxf2,Nd4', 'Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/3uxcm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3UYnI', 'Rapid', 'vitallion', 1812, 'jchosenone', 1903, 'e4,e5,f4,Bc5,Nf3,exf4,d4,Bb6,Bxf4,Nf6,Bg5,d6,Bc4,Bg4,Qd3,Bxf3,gxf3,Nbd7,Nd2,Qe7,O-O-O,O-O-O,Rhe1,h6,Bh4,g5,Bg3,Nh5,e5,Nxg3,exd6,Qxd6,hxg3,Rhf8,c3,Qxg3,Rg1,Qf4,Rg4,Qf6,Ne4,Qg6,Qc2,Rg8,b4,Rg7,a4,f5,a5,Bxa5,bxa5,fxg4,Bd3,gxf3,a6,bxa6,Nc5,Qb6,Nxa6,Qa5,Bf5,Qxa6,Bd3,Qb6,Kd2,f2,Rb1,Qa5,Qb3,Nb6,Qe6+,Rgd7,Qc6,Qa2+,Bc2,Qxb1,Bxb1,f1=Q,Bd3,Qf2+,Kc1,Rd6', 'Ba6+,Kb8,Qb7#', 'https://lichess.org/training/3UYnI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3V1L4', 'Rapid', 'simply_castles', 1811, 'SUC280', 1734, 'e4,c5,c3,d6,d4,Nc6,d5,Nb8,Nf3,Nf6,c4,g6,Nc3,Bg7,Be2,O-O,Be3,Ng4,Bd2,e6,O-O,exd5,exd5,a6,Ng5,Ne5,f4,Ned7,Bg4,Nf6,Bxc8,Qxc8,Nge4,Qc7,f5,Nxe4,Nxe4,Nd7,f6,Bh8,Bf4,Ne5,Bxe5,dxe5,Qg4,h6,Qh4,h5,g4,Qb6,gxh5,Qxb2,hxg6,fxg6,f7+,Rxf7,Rxf7,Qxa1+,Rf1,Qd4+,Kg2,Bg7,Nf6+,Bxf6,Qxf6,Qg4+,Kh1,Qe4+,Rf3,Kh7,Qf7+,Kh6,Kg1,Qg4+,Kf2,Rh8,Rg3,Qf5+', 'Qxf5,gxf5,Rh3+,Kg7,Rxh8', 'https://lichess.org/training/3V1L4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3v4Hj', 'Rapid', 'Treppenhouse', 2005, 'vik64', 1994, 'f4,c5,Nf3,Nc6,e3,g6,c3,Bg7,Be2,Nf6,O-O,O-O,d3,e6,Nbd2,Ng4,Ne4,d6,Qe1,Nh6,d4,cxd4,cxd4,f5,Neg5,Ng4,Bd2,h6,Nh3,a6,Qg3,Kh7,Nh4,Bf6,Nf3,b5,Nf2,Nxf2,Rxf2,Bb7,Rc1,Rc8,Rff1,Rg8,h4,Rg7,Qh2,Rgc7,g3,Ne7,Ba5,Rxc1,Bxd8,Rxf1+,Kxf1,Rxd8,Ke1,Rc8,Kd2,Nd5,Ne1,Bd8,a3,b4,axb4,Nxb4,Bf3', 'Bxf3,Nxf3,Rc2+,Kd1,Rxh2', 'https://lichess.org/training/3v4Hj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3V4sO', 'Rapid', 'PetMixHD', 1617, 'Aa110225', 1612, 'd4,d5,f4,e6,a3,c6,Nf3,f6,e3,Bd7,c4,Ne7,Nc3,dxc4,Bxc4,Qb6,O-O,Nf5,e4,Nd6,Be2,Na6,Kh1,O-O-O,Be3,Qc7,d5,exd5,exd5,Nf5,Bxa7,c5,Rc1,b6,Bxb6,Qxb6,Bxa6+,Qxa6,Ne4,Ne3,Qd4,Nxf1,Nxc5,Bxc5,Rxc5+,Kb8,Qb4+,Ka8', 'Ra5,Qxa5,Qxa5+', 'https://lichess.org/training/3V4sO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3V5yp', 'Rapid', 'rohit_m1234', 1944, 'orlandov1', 1894, 'd4,d5,c4,Nf6,Nc3,dxc4,e3,e5,Bxc4,Be7,Nf3,exd4,Nxd4,O-O,O-O,a6,a4,b6,e4,Bb7,e5,Nfd7,e6,Ne5,exf7+,Nxf7,Be3,Kh8,Qb3,Ne5,Ne6,Qd6,Nxf8,Bxf8,Rad1', 'Nf3+,gxf3,Qg6+,Bg5,Qxg5+,Kh1,Bxf3#', 'https://lichess.org/training/3V5yp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3V7hw', 'Rapid', 'SharadMate', 1828, 'BCS2512', 1742, 'd4,e6,c4,c5,e3,d5,Nc3,dxc4,Bxc4,cxd4,exd4,a6,Nf3,Nc6,O-O,Nf6,Re1,Be7,d5,exd5,Nxd5,O-O,Nxe7+,Nxe7,Qxd8,Rxd8,Rxe7,Bg4,Rxf7', 'Rd1+,Bf1,Kxf7', 'https://lichess.org/training/3V7hw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3VbBP', 'Rapid', 'Krinius', 1940, 'wheeler5', 1924, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Nc3,a6,Bxc6,Bxc6,d4,cxd4,Nxd4,Bd7,Re1,g6,Be3,Bg7,Nb3,Rc8,Bd4,Nf6,Nd5,e5', 'Bb6,Nxd5,Bxd8', 'https://lichess.org/training/3VbBP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3VcGh', 'Rapid', 'gianpi2016', 1762, 'ksasay', 1668, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bd3,Nf6,O-O,h6,Nc3,c5,Qa4+,Bd7,Qb3,Rb8,a4,Be7,Kh1,Be6,Bc4,Bxc4,Qxc4,O-O,f4,Nxe4,Nxe4,d5,Qe2,dxe4,Qxe4,Re8,Qf3,Bf6,c3,Re7,Be3,b6,Rad1,Rd7,Rxd7,Qxd7,Rd1,Qe7,h3,Rd8,Rxd8+,Qxd8,Kh2,a5,f5,Be5+,Bf4,Bxf4+,Qxf4,f6,b4,axb4,cxb4,cxb4,Qxb4,Qc7+,Kg1,Kf7,Qe4,Qc5+,Kh2,Qe5+,Qxe5,fxe5,Kg3', 'Kf6,Kf3,Kxf5', 'https://lichess.org/training/3VcGh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3vDvE', 'Rapid', 'sambibo', 1836, 'BlunderET', 1917, 'Nc3,Nf6,Nf3,e6,a3,d5,d4,c5,dxc5,Bxc5,Bg5,h6,Bh4,Qb6,e3,Qxb2,Na4,Bb4+,axb4,Qxb4+,Qd2,Qe7,c4,g5,Bg3,Ne4,Qb2,O-O,Be5,f6,Bd4,e5,Bc3,Qd8,Bd3,Nxc3,Nxc3,e4,Nxd5,exd3,Rd1,Qa5+,Rd2,Kg7,O-O,Nc6,Rxd3,Bf5,Rb3,b6,Nd4,Nxd4,exd4,b5,Rxb5,Qd8,Re1,Rf7,Rb7,Qf8,Ree7,Bg6,Rxa7', 'Rxa7,Rxa7,Rxa7', 'https://lichess.org/training/3vDvE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Vfrj', 'Blitz', 'Divingeagle14', 1528, 'Dsoul20', 1514, 'e4,Nc6,d4,e5,d5,Nce7,Nc3,Ng6,Nf3,Bc5,b3,a6,Bb2,d6,Be2,f5,exf5,Bxf5,Bd3,Bd7,O-O,Nf6,Ng5,Nf4,Ne2,Nxd3,Qxd3,h6,Ne6,Bxe6,dxe6,Qe7,Qg6+,Kd8,Qf5,Rg8,Kh1,g6,Qh3,c6,Qxh6,Kc7,Qh3,Rh8,Qg3,Rag8,f4,Qxe6,fxe5,Ne4,Qf4,d5,Nd4,Bxd4,Bxd4,g5,Qf7+,Qxf7,Rxf7+,Kb8,c4', 'Ng3+,Kg1,Ne2+,Kf2,Nxd4', 'https://lichess.org/training/3Vfrj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3vgMq', 'Blitz', 'nakro85', 2584, 'GM Queen_Annes_Revenge', 2588, 'e4,g6,d4,Bg7,Nc3,c6,f4,d5,e5,Nh6,Nf3,Bg4,Be3,Nf5,Bf2,f6,h3,Bxf3,Qxf3,fxe5,dxe5,O-O,g4,Nh6,Qg3,g5,f5,Nf7,e6,Nd6,h4,d4,hxg5,dxc3,Qh4,h6,O-O-O,Nxf5,gxf5', 'cxb2+,Kb1,Qxd1#', 'https://lichess.org/training/3vgMq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3VHhe', 'Blitz', 'IM swimmerchess', 2780, 'LANATER2020', 2409, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,a4,b6,Bb5+,Bd7,Bd3,Nbc6,Nf3,Qc7,O-O,h6,Ba3,Na5,Nd2,c4,Be2,Nec6,Bd6,Qb7,f4,O-O-O,h4,Rdg8,h5,g6,hxg6,fxg6,Bg4,Qa6,Qf3,Nb7,Bb4,Nbd8,Qh3,Qb7,Ba3,Qa6,Bd6,Qb7,Be2,Na5,Bb4,Nac6,a5,b5,a6,Qb6,Bc5,Qc7,Rfb1,Nb8,Rb2,Rh7,Qe3,Be8,Bd6,Qc6,Nxc4,dxc4,Bf3,Qb6,Bc5,Qc7,Rab1,Nxa6,Rxb5,Bxb5,Rxb5,Nxc5', 'Rxc5,Qxc5,dxc5', 'https://lichess.org/training/3VHhe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3vkhY', 'Rapid', 'mnikasa', 1670, 'Tamik75', 1627, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,b6,h4,Bb7,a3,Qf6,Bg5,Qxb2,Nd2,f6,Bf4,O-O-O,Nc4,Qc3+,Nd2,Bxa3,Ne2,Qb4,c3,Qb2,Nc4,Qb5,Nxa3,Qc5,Nd4', 'Qxc3+,Bd2,Qxd4', 'https://lichess.org/training/3vkhY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3vM4X', 'Bullet', 'noraamatir', 1672, 'RayGarrison', 1742, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,exd6,Nc3,Be7,h3,O-O,Nf3,h6,Be2,Bf5,O-O,Bf6,Bd3,Bxd3,Qxd3,Nc6,a3,Re8,Bf4,Nd7,b4,a6,Rfe1,Ne7,Re2,Ng6,Rae1,Rxe2,Nxe2,Qf8,Bd2,Re8,Ng3,Nh4,Re4,Nxf3+,Qxf3,Rxe4,Qxe4,Qe7,Qxb7,Bxd4,Qxc7,Qf6,Qxd7', 'Qxf2+,Kh2,Qg1#', 'https://lichess.org/training/3vM4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3VMY0', 'Blitz', 'nose78', 1652, 'Josuambun', 1654, 'e4,d5,exd5,Nf6,Bc4,e6,dxe6,Bxe6,Bxe6,fxe6,Ne2,Bd6,O-O,Ng4,g3,Qf6,d3,Qg6,Nf4,Bxf4,Bxf4,O-O,Nc3,Rxf4,h3,Nxf2,Rxf2,Qxg3+,Rg2,Qe3+,Kh1,Qxh3+,Kg1,Qe3+,Kh1,Rh4+,Rh2,Rf4,Qe2,Qb6,Re1,Rf6,b3,Nd7,Ne4,Rg6,c3,Qc6,Rf1,Rf8,Rxf8+,Nxf8,Qf2,Nd7,Qxa7,Nf6,Qb8+,Kf7,Rf2,Ke7,Kh2,Nxe4', 'Qf8+,Kd7,Rf7#', 'https://lichess.org/training/3VMY0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3vmYJ', 'Rapid', 'erdonn', 1647, 'desertpatzer', 1752, 'd4,d5,Nf3,g6,c4,dxc4,Nc3,Bg7,e4,Bg4,Bxc4,Bxf3,Qxf3,f6,Be3,Nd7,O-O,c6,e5,f5,Qd1,Qc7,b4,O-O-O,Qb3,Nb6,Be6+,Kb8,a4,Nh6,h3,Rhf8,a5,Nd5,Bxd5,cxd5,Rfc1,Qd7,b5,f4,Bd2,Nf5,Qb4,e6,Bxf4,Nh4,a6,b6,Qd6+', 'Qxd6,exd6,Rxf4', 'https://lichess.org/training/3vmYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3vNo9', 'Rapid', 'Goblinski', 1992, 'dave_hedgehog', 1992, 'e4,e5,d4,exd4,Nf3,Nc6,Nxd4,Nxd4,Qxd4,Ne7,Bc4,Nc6,Qd5,Qf6,Bg5,Qg6,f4,d6,O-O,Be6,Qb5,Bxc4,Qxc4,Be7,Nc3,Bxg5,fxg5,O-O,Nd5,Qxg5,Rf5,Qh6,Raf1,Ne5,Qxc7,Rac8', 'Ne7+,Kh8,Nxc8', 'https://lichess.org/training/3vNo9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3VqUW', 'Blitz', 'santiur', 1658, 'barcoalado', 1670, 'e4,e5,Nf3,Qe7,Nc3,Nf6,Bc4,c6,O-O,d6,h3,g6,d3,Bg7,Bg5,O-O,Qd2,Be6,Bb3,Nbd7,Bh6,a5,a3,Bxb3,cxb3,Nc5,b4,Bxh6,Qxh6,Nxd3,Ng5,axb4,Ne2,Nxb2,Rab1,bxa3,f4,Nd3,f5,Rfb8,fxg6,fxg6,Rxf6,Rf8,Rbf1,Rxf6,Rxf6,Rf8', 'Rxf8+,Qxf8,Qxh7#', 'https://lichess.org/training/3VqUW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3vrSf', 'Blitz', 'DimaB222', 1604, 'leone_66', 1530, 'd4,d5,e3,e6,Bd2,Bd6,Be2,f5,a3,Nf6,h3,O-O,g4,c6,g5,Ne4,h4,Nd7,Nc3,Rf7,Nf3,Nf8,Ng1,Ng6,Nxe4,fxe4,Bh5,Qf8,Qe2,e5,Bxg6,hxg6,dxe5,Bxe5,c3,Be6,h5,Bg3,hxg6,Rxf2', 'Rh8+,Kxh8,Qh5+,Kg8,Qh7#', 'https://lichess.org/training/3vrSf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3VsGM', 'Rapid', 'CapivaraTL', 1816, 'Batra1970-47', 1901, 'd4,c6,Bf4,d5,e3,Nf6,Nd2,e6,c3,Nbd7,Ngf3,Qb6,Rb1,Be7,Bd3,c5,O-O,O-O,Ne5,Bd6,Bg3,a5,f4,Qa7,Ndf3,Rb8,Bh4,b5,Nxd7,Nxd7,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,f5,Qg3,Nf6,Nxe6+,Kf7', 'Qxg7+,Kxe6,Qxa7', 'https://lichess.org/training/3VsGM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3VtbQ', 'Rapid', 'Saturn-3', 1773, 'Remld', 1848, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,Nf6,h3,O-O,Be3,Nbd7,Qd2,c5,d5,a6,Bh6,b5,Bxg7,Kxg7,Be2,e5,dxe6,Ne5,Nxe5,dxe5,Qxd8,Rxd8,exf7,Kxf7,O-O,b4,Na4,Nxe4,Bf3,Bb7,Rfe1,Rd4,Bxe4,Bxe4,Nxc5,Bxc2,Rxe5,Rc8,Nxa6,Bf5,Rae1,h5,Rb5,Bd3,Rxb4,Rxb4,Nxb4,Bf5,a3,Rc5,Re3,Rc1+,Kh2,Rb1,Re2,Ra1,Kg3,Rd1,a4,Rd4,Nc6,Rxa4,b4,Ra6,Nd4,Bd7,Rd2,Rd6,Kf4,Kf6,g4,g5+,Kg3,h4+,Kf3,Ke5,Ke3,Kf6,b5,Rd5,b6,Bc8,Rc2,Re5+,Kd2,Bb7,Rc7,Rd5,Kc3,Ba6,b7,Rd8,Rc8,Rxc8+,bxc8=Q,Bxc8,Kc4,Ba6+,Kd5,Bf1,Ke4,Bxh3,f3,Bf1,Nf5', 'h3,Ke3,h2,Ng3,Bg2', 'https://lichess.org/training/3VtbQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3vTrw', 'Blitz', 'cafechess-wa', 1967, 'Majid1971', 1903, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,d6,Bc4,Nb6,Bxf7+,Kxf7,Ng5+,Kg8,e6,Nc4,O-O,Qb6,Qf3,N4e5,dxe5,Nxe5,Qf5,h6', 'Qf7+,Nxf7,exf7#', 'https://lichess.org/training/3vTrw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3vv6N', 'Rapid', 'nuno007', 1689, 'vinciusstal', 1711, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,Re1,Nc5,Bxc6,dxc6,Nxe5,Be7,Qf3,O-O,d3,Ne6,Nc3,Nd4,Qd1,Re8,Be3,Be6,Bxd4,Qxd4,Re4,Qb6,Rb1,Rad8,Qe2,Rd4,Nf3,Rxe4,Qxe4,Bb4,Ne2,f5,Qh4,Bxa2,Ng5,Rxe2,Qxh7+,Kf8,Qh8+,Bg8,Rf1,Qxf2+,Rxf2', 'Re1+,Rf1,Bc5+,d4,Bxd4+,Kh1,Rxf1#', 'https://lichess.org/training/3vv6N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3vxlC', 'Blitz', 'rayman2411', 1520, 'Relmcheatham', 1516, 'e4,e5,Bc4,Nc6,Qh5,g6,Qf3,Nf6,Ne2,Bg7,d3,O-O,Bg5,d6,Nbc3,h6,Bh4,g5,Bg3,Bg4,Qe3,Bxe2,Qxe2,Nd4,Qd1,a6,O-O,b5,Bb3,a5,a3,a4,Ba2,c5,Ne2,Nxe2+,Qxe2,b4,axb4,cxb4,Rfe1,a3,bxa3,bxa3,Bb3,Qb6,h3,Rfc8,Rab1,Qa5,Ra1,Qc3,h4,Nh7,hxg5,Nxg5,Qh5,a2,Bxa2,Qxc2,f4,exf4,Bxf4,Rxa2,Rxa2,Qxa2,Bxg5,hxg5,Qxg5,Qa7+,Kh1,Qd4,Rd1,Rc3,Qd8+,Kh7,Qh4+,Bh6,Qg3,Qe5,Qf3,Rb3,Qxf7+,Bg7,Qxb3', 'Qh5+,Kg1,Bd4+,Kf1,Qh1+,Ke2,Qxg2+,Ke1,Qf2#', 'https://lichess.org/training/3vxlC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3w0xr', 'Blitz', 'karplanca', 1961, 'Namanporwal1312', 2158, 'd4,f5,Bf4,Nf6,e3,e6,Nf3,b6,Be2,Bb7,h3,Be7,O-O,O-O,c4,Nc6,Nc3,Bb4,Nb5,Rc8,a3,Be7,Nc3,d6,Bh2,Qe8,Ng5,Nd8,Bf3,Bxf3,Nxf3,Ne4,Rc1,Qg6,b4,Bf6,Nxe4,fxe4,Nd2,d5,cxd5,exd5,Rxc7,Rxc7,Bxc7,Ne6,Bh2,Rc8,Qb3,Qf5,Qa4,h5,Nb3,Ng5,Qxa7,Rc2,Qxb6,Nf3+,gxf3,exf3,Qb8+,Kh7,Qg3,Qd3,Nc5', 'Qxf1+,Kxf1,Rc1#', 'https://lichess.org/training/3w0xr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3w1tM', 'Rapid', 'ishantsing', 1700, 'mrchesspaco', 1758, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Na3,cxd4,cxd4,Bb4+,Ke2,Bxa3,bxa3,Bd7,Be3,Na5,Rb1,Qc7,Nd2,a6,Rc1,Qb6,Rb1,Qa7,g3,Bb5+,Ke1,Bxf1,Kxf1,Ne7,Kg2,O-O,Qa4,Nac6,Nb3,Rac8,Rhc1', 'b5,Qb4,Nxb4', 'https://lichess.org/training/3w1tM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3W5WG', 'Rapid', 'Ali72T6', 1657, 'Saurav_anand', 1648, 'd4,Nf6,c4,c5,Nc3,cxd4,Qxd4,Nc6,Qd3,e5,Nf3,Qe7,Bg5,e4,Bxf6,Qxf6,Qxe4+,Be7,Nd5,Qe6,Qxe6,dxe6,Nxe7,Nxe7,e4,O-O,Bd3,b6,O-O,Rd8,Rad1,Bb7,b3,Rac8,Rfe1,Ng6,Bc2,a5,Nd2,Rd4,e5,Rcd8,Bxg6,Rxd2,Rxd2,Rxd2,Bb1,g6,g3,Bc6,Kf1,Kg7,Re2,Rd1+,Re1,Rd2,Rc1,Bf3,Ke1,Re2+,Kf1,Rxe5,Re1', 'Bg2+,Kxg2,Rxe1', 'https://lichess.org/training/3W5WG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3w9YS', 'Blitz', 'servet0668', 1501, 'Vaswine', 1503, 'e4,e5,Nf3,d6,Nc3,c5,Nd5,Nc6,Bb5,Bd7,d3,a6,Ba4,b5,Bb3,Bg4,a3,Nd4,c3,Nxf3+,gxf3,Be6,a4,Ne7,axb5,axb5,Rxa8,Qxa8,Nc7+,Kd7,Bxe6+,Kxc7,Bxf7,g6,Bb3,Nc6,Bd5,Qa6,O-O,Ne7,c4,b4,Be3,Nxd5,exd5,Be7,f4,exf4,Bxf4,Bf6,Qe2,Qa2,Bc1,Be5,f4,Bd4+,Kg2,Kd7,Qe6+,Kc7,Qf7+,Kd8,Re1,Qa4,Qe7+,Kc8,Be3,Qc2+,Kg1,Bxe3+,Qxe3,Qxb2,Qe6+,Kc7,Qf7+,Kb6,Re7,Qb1+,Kg2,Qc2+,Kg1,Qd1+,Kg2,Qg4+,Kf1,Ra8,Rb7+,Ka5', 'Ra7+,Rxa7,Qxa7#', 'https://lichess.org/training/3w9YS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3WdKx', 'Blitz', 'doublexclam', 2329, 'FM AyrtonSenna', 2278, 'd4,Nf6,Nf3,e6,c4,b6,a3,Ba6,Nbd2,c5,dxc5,bxc5,g3,Bb7,Bg2,Be7,O-O,O-O,b3,d6,Bb2,Qb6,Rb1,Nc6,e3,a5,Qc2,Rab8,Ng5,g6,Nge4,Nxe4,Nxe4,Ne5,f4,Nd7,Qc3,e5,Ba1,Nf6,Nxf6+,Bxf6,Qd2,Bxg2,Qxg2,Bg7,Rfd1,Rfd8,Qd5,exf4,Bxg7,Kxg7,exf4,Qb7,Qxb7,Rxb7,Rd3,Rb6,Rbd1,Kf6,Kf2,Ke6,Re1+,Kd7,Rde3,Kc6,Rd1,Rd7,Kf3,Rdb7,Rdd3,a4,bxa4,Ra6,Re8,Rxa4,Rd8,Rd7,Rc8+,Kb7,Rxc5,Rxa3', 'Rb5+,Kc8,Rxa3', 'https://lichess.org/training/3WdKx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3WeK3', 'Rapid', 'Jarulf', 1959, 'DrAbdrabou', 2031, 'd4,Nf6,Nf3,d5,Bf4,a6,e3,Bg4,Nbd2,Nc6,h3,Bh5,Be2,Ne4,Nxe4,dxe4,Nd2,Bxe2,Qxe2,Qd5,a3,O-O-O,c4,Qa5,O-O,Qf5,b4,e5,dxe5,Nxe5,Bxe5,Qxe5,Nb3,f5,Nd4,g5,b5,axb5,cxb5,f4,Rfc1,Bd6,Qg4+,Kb8,Nf5,fxe3,Nxe3,h5,Qd1,Qh2+,Kf1,Bxa3,Qa4,Rd3', 'Rxa3,Rxa3,Qxa3', 'https://lichess.org/training/3WeK3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3WepE', 'Classical', 'Lsdpingiun', 1711, 'ahmed3liyassen5', 1672, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qxe4+,Qe2,Qxe2+,Kxe2,Be6,Re1,O-O-O,Kf1,Bd6,d4,Nf6,Bg5,Rhe8,Nbd2,h6,Bh4,g5,Bg3,Bxg3,hxg3,Bg4,Rad1,Rxe1+,Rxe1,Bxf3,Nxf3,g4,Ne5,Rxd4,Nxf7,h5,Re6,Ne4', 'Re8+,Kd7,Rd8+,Ke7,Rxd4', 'https://lichess.org/training/3WepE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3wHi8', 'Rapid', 'barbadovar', 1892, 'surya_789', 1607, 'e4,d6,d4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,Qd2,Nbd7,O-O-O,c6,Bh6,b5,Bxg7,Kxg7,g4,Nb6,h4,Bxg4,Bxg4,Nxg4,h5,Nc4,Qe2,Nf6,hxg6,hxg6,Qg4,Rh8,Nf3,Qd7,Qg5,Rxh1,Rxh1,Rh8,Rxh8,Kxh8,e5,dxe5,dxe5,Nd5,Qh6+,Kg8,Ng5,Nf6,exf6', 'Qd2+,Kb1,Qe1+,Nd1,Qxd1#', 'https://lichess.org/training/3wHi8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3wIlr', 'Rapid', 'Sash17', 1838, 'dinesh_123', 1860, 'e4,e5,Nf3,Nf6,Nc3,Nxe4,Nxe4,d5,Nc3,d4,Ne4,f5,Ng3,e4,Qe2,Be7,Ne5,O-O,d3,exd3,Qxd3,Bd6,Nf3,Re8+,Be2,f4,Nf5,Bxf5,Qxf5,Qe7,Qd3,Nc6,Bd2,Nb4,Bxb4,Bxb4+,c3,dxc3,bxc3', 'Bxc3+,Kf1,Bxa1', 'https://lichess.org/training/3wIlr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3WpGk', 'Blitz', 'iran_shiraz_890', 1962, 'Vladikarus', 1981, 'd4,d5,Bg5,Nf6,e3,h6,Bxf6,exf6,c3,c5,Bd3,Be7,Nf3,O-O,h3,Nc6,O-O,cxd4,cxd4,a6,a3,b5,Nc3,b4,axb4,Nxb4,Be2,Bf5,Qb3,Nc2,Rac1,Rb8,Qa4,Rxb2,e4,dxe4,Rxc2,Rxc2,Qxc2,exf3,Qxf5,fxe2,Nxe2,Qd6,Ra1,Rb8,d5,Rb2,Nd4,Qc5,Nc6,Qd6,Nxe7+,Qxe7,Rxa6,Qe1+,Kh2,Rxf2', 'Ra8+,Qe8,Rxe8#', 'https://lichess.org/training/3WpGk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3wPsc', 'Blitz', 'Vitek_zveroboy001', 1797, 'mehdishemirani37', 1760, 'e4,c5,Nf3,e6,Nc3,a6,a4,d6,d4,cxd4,Nxd4,Qc7,Bd3,Nd7,O-O,Be7,f4,Ngf6,f5,Qc5,fxe6,fxe6,Kh1,Qxd4,Ne2,Qb6,Nf4,Ne5,Be2,Bd7,b3,O-O,Bb2,Rac8,Bf3,Nf7,g4,e5,Nh5,Nxh5,gxh5,Be6,Bg4,Bxg4,Qxg4,Qe3,Bc1,Qc3,Rg1,Bf6,h6,g6,Ba3,Bh8,Qe6,Rcd8,Rxg6+,hxg6', 'Qxg6+,Bg7,Qxg7#', 'https://lichess.org/training/3wPsc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3WQ0Z', 'Blitz', 'FollowAbraham', 1998, 'Adahamjon_KG', 1979, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,a6,f3,e6,e4,dxe4,fxe4,Nc6,Nf3,Nf6,Bd3,Be7,Be3,O-O,O-O,Ng4,Qe2,Nxe3,Qxe3,Bf6,e5,Be7,Qe4,g6,h4,Nb4,Bb1,Bd7,h5,Bc6,Qg4,Nd5,hxg6,hxg6,Bxg6,Ne3,Qh5,fxg6,Qxg6+,Kh8,Qh6+,Kg8,Qxe3,Bxf3,Rxf3,Rxf3,Qxf3,Qf8,Qg4+,Qg7,Qxe6+,Kh8,Nd5,Bg5,Rf1,Rg8,Nf6', 'Be3+,Kh1,Qxg2#', 'https://lichess.org/training/3WQ0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3WrJe', 'Blitz', 'Stokksnes', 2301, 'FM TC58', 2397, 'c4,e5,g3,d5,cxd5,c6,dxc6,Nxc6,Bg2,Nf6,Nc3,Bc5,d3,O-O,Nf3,e4,dxe4,Qxd1+,Nxd1,Nxe4,O-O,Nb4,Be3,Be7,a3,Nc2,Rc1,Nxe3,Nxe3,Bf6,Rc2,Bd7,Rb1,Rac8,Rxc8,Rxc8,Ne5,Bxe5,Bxe4,Rc7,Kg2,g6,b4,Rc3,Bxb7,Bb5,Bf3,Rxa3,Rd1,a6,h4,h5,Nd5,Kg7,Nb6,Rb3,Nd5,Bc6,e3,Bd6,Rc1,Ba8,Rc4,Rb2,Nc7,Bxf3+,Kxf3,Rxb4', 'Ne8+,Kg8,Nxd6', 'https://lichess.org/training/3WrJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3wrZH', 'Blitz', 'gasrbek', 1657, 'Kuckodony', 1653, 'e4,d5,exd5,c6,dxc6,Nxc6,Nf3,Bg4,Be2,e5,c3,Bc5,O-O,Qc7,d4,exd4,cxd4,Bd6,h3,h5,Ng5,Nf6,hxg4,hxg4,Bxg4', 'Bh2+,Kh1,Bg1+,Kxg1,Qh2#', 'https://lichess.org/training/3wrZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3WseA', 'Rapid', 'T-dogthecat', 1645, 'manrico66', 1608, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,e6,O-O,Be7,h3,O-O,d3,a5,a4,c6,b3,Nbd7,Bb2,Nd5,d4,N7f6,Nxd5,cxd5,Bd3,Bd7,Rc1,Bd6,c4,Bc6,cxd5,Bxd5,Ne5,h6,f4,b6,f5,exf5,Bxf5,Re8,Ng4,Ne4,Qd3,Ng3,Rfe1,Nxf5,Qxf5,Be6,Qf3,Rc8,d5,Rxc1,Bxc1,Bc5+,Kh2,Bxd5', 'Rxe8+,Qxe8,Qxd5', 'https://lichess.org/training/3WseA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3WsLU', 'Rapid', 'Arthur0990', 1978, 'some_fancy_clown', 1964, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,d6,d3,Nge7,Ng5,O-O,Qh5,h6,Bxf7+,Rxf7,Qxf7+,Kh8,Ne6', 'Bxe6,Qxe6,Nd4,Qf7,Nxc2+,Kd1,Nxa1', 'https://lichess.org/training/3WsLU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3WSXY', 'Rapid', 'luisfigueiredoooo', 1808, 'napka', 1756, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,e6,Be2,Nge7,O-O,O-O,Nc3,a6,Qd2,Re8,b4,Nxb4,Rad1,Nbc6,Bh6,Bxd4,Bf3,Bxc3,Qxc3,e5,Rd6,b5,Rfd1,b4,Qb2,a5,Bg4,Nd4,R1xd4,exd4', 'Qxd4,Nf5,Bxf5', 'https://lichess.org/training/3WSXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3wT5x', 'Classical', 'RestaM', 1876, 'Thelastramps', 1858, 'e4,c5,c3,d5,exd5,Qxd5,Nf3,Nf6,d4,e6,Bb5+,Bd7,c4,Qe4+,Be3,Bxb5,Nc3,Qg6,Nxb5,Na6,O-O,Rd8,Qa4,Nd7,Nxa7,Bd6,Nb5,Bb8,dxc5,O-O,c6,Ndc5,Bxc5,Nxc5,Qa3,Nd3,c7,Bxc7,Nxc7,Nf4,Nh4,Qe4,Qf3,Qxc4,Rfe1,Qxc7,Rac1,Qb8,Re4,Nd3,Rc2,Qa7,b3,Nc5,Rec4,Rd3,Qe2,Rfd8,h3,b6,b4,Rd1+,Kh2,Qb8+,g3,Qb7,Ng2,Na6,a3,h6,Rg4,Ra1,Ra2,Rad1,Qe3,Kf8,Qe5,g6,Re2,Qc8,Qh8+,Ke7,Qxh6,Rh8,Qg5+,Kf8,Qf6', 'Rxh3+,Kxh3,Rh1#', 'https://lichess.org/training/3wT5x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3wtR6', 'Rapid', 'dheitkam', 1732, 'ponyju', 1638, 'c4,e6,Nc3,c5,Nf3,b6,g3,Bb7,Bg2,Bd6,O-O,Bc7,d4,cxd4,Nxd4,Bxg2,Kxg2,Ne7,Ncb5,O-O,Nxc7,Qxc7,b3,Rd8,Bb2,Qb7+,Kg1,d5,cxd5,Qxd5,Nf3,Nbc6,Qxd5,Rxd5,Rfd1,Rad8,Rxd5,Rxd5,Rb1,Nb4,a3,Na6,Rc1,Kf8,e4,Rd3,Rc3,Rxc3,Bxc3,Ke8,Bxg7,Nc5,b4,Nxe4,Nd4,Kd7,f3,Nd6,Nb3,Nb5,a4,Nc7,Kf2,Ncd5,b5,f6,Bh6,Nf5,Bf8,e5,a5,Nde7,axb6,axb6,g4,Nd6,Bg7,Ke6,Nd2,Nxb5,Nc4,Nc8,Bf8,Nbd6,Nxd6,Nxd6,Ke3,Nb7,f4,Kd5,Bg7,Ke6,fxe5,fxe5,Ke4,Nc5+,Ke3,b5,h4,b4,Kd2,e4,Bd4,Nb3+,Ke3,Kd5,Bb2,Nc5,g5,b3,h5,Ne6,g6,hxg6,hxg6,Kc4', 'Kxe4,Kc5,Ke5', 'https://lichess.org/training/3wtR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Wu4u', 'Blitz', 'Mehdiansari', 1788, 'Cherepanov_D', 1738, 'e4,e6,d3,d5,exd5,exd5,Nf3,c5,Be2,Bd6,O-O,Nf6,a3,Bg4,Nc3,d4,Nb5,Nc6,Bg5,h6,Bxf6,Qxf6,Nd2,Bxh2+,Kxh2,Qh4+,Kg1,Bd7,Nc7+,Kd8,Nxa8,Re8,Nf3,Qh5,Nxd4,Qg6,Nxc6+,Bxc6,Bf3,Bd7,Bxb7,Bh3,Bf3,Re6,Qd2,Rf6,Qa5+,Ke8,Nc7+,Kf8,Qxc5+,Kg8,Qd5,Rf5,Qe4,Qg5,Rae1,Rf4,Qa8+,Kh7,Be4+,g6,Qe8,Rg4,Qxf7+,Kh8,Qf8+,Kh7,Bxg6+,Kxg6,Re6+,Kh5,Qf7+,Kh4,g3+,Rxg3+,Kh1,Bg2+,Kh2', 'Rh3+,Kg1,Bf3#', 'https://lichess.org/training/3Wu4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3wwtW', 'Rapid', 'khalafzadehali1341', 1718, 'ViktorKul', 1795, 'e4,e5,g3,Nf6,d3,g6,Qe2,Bg7,b3,O-O,Bg2,d6,Nf3,Nc6,Bb2,Bg4,Nbd2,Qc8,O-O,h5,Qe3,Kh7,Ng5+,Kg8,h3,Bd7,c3,Nh7,h4,Nf6,f3,Nh7,Nxh7,Kxh7,Qe2,Nd8,Qf2,Bh3,f4,Bxg2,Kxg2,Qg4,Qf3,Qxf3+,Rxf3,f5,Raf1,Ne6,fxe5,dxe5,exf5,gxf5,Rxf5,Kg6,Rxf8,Rxf8,Rxf8,Nxf8,c4,Nd7,Kf3', 'e4+,Kxe4,Bxb2', 'https://lichess.org/training/3wwtW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3wxQN', 'Classical', 'gmc10', 1714, 'darkknight80', 1709, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,Nc6,e4,Nf6,Nc3,Bg4,Be3,e6,Be2,Bb4,e5,Ne4,Qc2,Bf5,Bd3,Bxc3+,bxc3,Qd5,Nh4,g6,Nxf5,exf5,f3,Nxc3,Qxc3,O-O-O,Bc4,Qd7,d5,Ne7,d6,Nc6,Bb5,a6,Bxc6,Qxc6,Qxc6,bxc6,dxc7,Kxc7,f4,Rd3,Kf2,Re8,Rhe1,f6,exf6,Rf8,Rad1,Rxd1,Rxd1,Rxf6,Rd4,Rd6,Ra4,Kb7,Rb4+,Kc7,Bb6+,Kd7,Ra4,Rd2+,Kg3,Rb2,Rxa6,Kc8,Bd4,Rc2,Be5,Kb7,Ra3,c5,Kf3,c4,h4,Rc1,Kg3,Kb6,Kf3,Kb5,g4,Rh1,Bf6', 'Rh3+,Ke2,Rxa3', 'https://lichess.org/training/3wxQN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Wy1E', 'Rapid', 'Jmoura13', 1649, 'utilizator48', 1681, 'e4,e5,Nf3,d6,Nc3,c6,Bc4,Nd7,d3,Ngf6,Be3,Be7,h3,b5,Bb3,a5,a3,Bb7,O-O,a4,Ba2,d5,exd5,Nxd5,Nxd5,cxd5,c3,O-O,Nh2,Nf6,Ng4,Qd6,d4,e4,Nxf6+,Qxf6,f3,Qg6,fxe4,dxe4,Qe2,Ba6,Rf4,b4,Qf2,Bg5,Rg4,Bxe3,Qxe3,Qf5,Qh6', 'Qxg4,hxg4,gxh6', 'https://lichess.org/training/3Wy1E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3WyxT', 'Blitz', 'myOldFriend', 2120, 'Lapeyre', 2095, 'd4,e6,e4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,Qb6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nf3,Qb6,Re1,Nc5,Bc2,Bd7,Be3,Qxb2,Rb1,Qxa2,Bxc5,Bxc5,Rxb7,Rc8,Re2,Bb6,Rxd7,O-O,Qd3,g6,h4,Rc5,Ng5,Rfc8,Nxh7,Rxc2,Rxf7,Kxf7,Ng5+,Ke7,Qxg6,Rxe2', 'Qf7+,Kd8,Nxe6#', 'https://lichess.org/training/3WyxT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3wZc7', 'Blitz', 'Ja45', 1780, 'EMPerr0r', 1735, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,c3,O-O,Be2,Bb7,O-O,Rfd8,Nc2,Ne7,Bf3,d5,Qe2,Ng6,g3,Qg5,Kh1,dxe4,Bxe4,Rd2,Qf3,Bxe4,Qxe4,Rad8,Ne3,Rxb2,Rad1,Rxd1,Rxd1,Rxf2,Qa8+,Nf8,Rd8,Qe7,Nd5,Qc5', 'Rxf8+,Qxf8,Ne7+,Kh8,Qxf8#', 'https://lichess.org/training/3wZc7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3X2GM', 'Classical', 'PulloTitusXIII', 1683, 'boltfm', 1860, 'e4,d5,exd5,Qxd5,Nc3,Qd7,d4,Nf6,Nf3,e6,Ne5,Qe7,Bc4,c6,O-O,Nd5,Nxd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Re1,f6,Nf3,e5,dxe5,fxe5,Bg5,Qe6,c3,Be7,Qa4,Bxg5', 'Rxe5,Qxe5,Nxe5', 'https://lichess.org/training/3X2GM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3X4T4', 'Rapid', 'Alaazeneddin', 1645, 'Blackburne1299', 1667, 'e4,e5,Bc4,Bc5,Nf3,h6,Nxe5,Nf6,Nxf7,Bxf2+,Kxf2,Nxe4+,Ke1', 'Qh4+,g3,Nxg3,hxg3,Qxh1+', 'https://lichess.org/training/3X4T4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3x9DH', 'Blitz', 'juniorgong', 2498, 'FM CyberLion', 2509, 'Nf3,d5,g3,Nc6,Bg2,e5,d4,e4,Ne5,Bd7,c4,dxc4,Nxc4,Nf6,O-O,Bd6,Nc3,Qe7,Bg5,Bf5,Nd5,Qe6,Nxf6+,gxf6,d5,Qe7,Bxf6,Qxf6,dxc6,bxc6,Qa4,O-O,Qxc6,Rfe8,Nxd6,cxd6,Rad1,Rad8,Rd5,Bg6,Rfd1,Qxb2,Rxd6,Rxd6', 'Qxe8+,Kg7,Rxd6', 'https://lichess.org/training/3x9DH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xa9y', 'Rapid', 'perseus15', 1828, 'Mikhail-5036', 1883, 'd4,c6,Nf3,d5,c4,Bg4,e3,e6,h3,Bh5,Be2,Nf6,O-O,Be7,Nc3,h6,Ne5,Bxe2,Qxe2,Nbd7,Nf3,O-O,c5,b6,b4,a5,cxb6,Qxb6,bxa5,Qxa5,Bd2,Qc7,a4,c5,Nb5,Qc6,Rfc1,Qb6,Ne5,cxd4,Nxd7,Nxd7,Nxd4,Bf6,Rc6,Qb2,Rcc1,Bxd4,exd4,Qxd4,Be3,Qb4,Qb5,Qxb5,axb5,Rxa1,Rxa1,Rb8,Rb1,Ne5,Ba7,Rb7,b6,Nc6,Ra1,Kf8,Kf1,Ke8,Ke2,Kd7,Kd3,Kc8,Kc3,Rxa7', 'bxa7,Nxa7,Rxa7', 'https://lichess.org/training/3xa9y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xABt', 'Rapid', 'zashem', 1824, 'JustCaroKann', 1812, 'd4,Nf6,Bf4,g6,e3,Bg7,Be2,O-O,h4,d6,h5,Nc6,hxg6,fxg6,Nf3,Nd5,Bg3,e5,dxe5,dxe5,Bc4,Be6,e4,Nf4,Bxe6+,Nxe6,Qe2,Ncd4,Nxd4,Nxd4,Qc4+,Kh8,Nd2,b5,Qc5,Qd6,Qxd6,cxd6,O-O-O,Ne2+,Kb1,Nxg3,fxg3,Rf2,Rh2,Bf6,Nf3,Rd8,Rdh1,h5,g4,Kg7,gxh5,gxh5,Rxh5,Rxg2,Rh7+,Kf8,Rxa7,Rg3,Nd2,Rg2,Nb3,Re2,Rb7,Rxe4,Rxb5,Rg4,Rd5,e4,Nc5', 'dxc5,Rxd8+,Bxd8', 'https://lichess.org/training/3xABt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3XcRx', 'Rapid', 'iLiyas07', 1803, 'Gasto0', 1775, 'd4,d5,c4,e6,Nc3,Nf6,e3,c5,cxd5,exd5,b3,cxd4,Qxd4,Be6,Nf3,Nc6,Qd1,Bb4,Bb2,Ne4,Qc2,Rc8,Bd3,Nxc3,Bxc3,Bxc3+,Qxc3,Ne7,Qxg7,Kd7,Ne5+,Kd6,Qg3,Kc5,O-O,Kb4,a3+,Ka5,b4+,Kb6,Rfc1,a6,e4,Ka7,b5,f6,exd5,Bxd5,Qe3+,Ka8,bxa6,bxa6,Bxa6,fxe5,Rxc8+,Nxc8,Qxe5,Nb6,Rd1,Rg8,f3,Rg5,Qd4,Ka7,Bb5,Qg8,Qd2,Bxf3', 'Qa5+,Kb7,Qa6+', 'https://lichess.org/training/3XcRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xdZV', 'Rapid', 'Callanad', 1816, 'nandoguariento', 1812, 'd4,e6,c4,Nf6,Nf3,d5,e3,Nc6,Nc3,Bb4,Bd3,Bxc3+,bxc3,Ne4,Qb3,O-O,Ba3,Re8,O-O,Na5,Qc2,Nxc4,Bxc4,Ng5,Nxg5,Qxg5,Be2,e5,dxe5,Rxe5,Bf3,Bh3,Kh1,Bf5,Qb3,c6,Qxb7,Rc8,Bc5,h5,Bd4,Re7,Qb4,h4,Rab1,Be4,Rg1,h3,Qd6,hxg2+,Bxg2,Bxb1,Bxd5,Qxd5+,Qxd5,Be4+,Qxe4,Rxe4,Rxg7+,Kf8,Rh7,c5', 'Rh8+,Ke7,Rxc8', 'https://lichess.org/training/3xdZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xEb2', 'Classical', 'Rampuncel', 1860, 'slabyGraczWSzachy', 1897, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,Qf3,Nh6,d3,d6,Bd2,Bg4,Qg3,Bd7,Bxh6,gxh6,Qf4,Qe7,h4,O-O-O,Nd2,Be6,Bxe6+,Qxe6,Nc4,Rg8,g3,h5,O-O-O', 'Bh6,Qxh6,Qxh6+', 'https://lichess.org/training/3xEb2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xenO', 'Blitz', 'beetlegp', 1771, 'premanandak', 1754, 'b3,Nc6,Bb2,e5,g3,Nf6,Bg2,Bc5,Bxc6,dxc6,Bxe5,Ne4,e3,Nxf2,Kxf2,Qg5,Bf4,Qf6,Qf3,Qxa1,Ne2,Qxa2,Nbc3,Qxc2,Bxc7,Qxb3,Rb1,Qe6,Re1,Qh3,Qe4+,Be6,Rh1,O-O,d4,Rae8,Nf4,Qg4,h3,Qf5,dxc5,Qxc5,Be5,Bd5,Nfxd5,cxd5,Nxd5,a5', 'Nf6+,gxf6,Qg4+,Kh8,Bxf6#', 'https://lichess.org/training/3xenO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xHgl', 'Classical', 'H12345678A', 1701, 'tcmonster', 1841, 'd4,d5,h3,g6,Bf4,Bg7,e3,e6,Nf3,Ne7,c4,c6,c5,O-O,b4,Nd7,b5,b6,bxc6,Nxc6,Bd6,Re8,Bb5,Bb7,Qa4,Ndb8,Bxb8,Rxb8,Bxc6,b5,Qxb5,Bxc6,Qxc6,Qa5+,Nbd2,Qc3,O-O,Rec8,Rac1,Qb2,Qa4,Rc7,Qc2,Qa3,Rb1,Rbc8,Rb3,Qa5,Ra1,e5,Nxe5,Bxe5,dxe5,Rxc5,Qb2,Rc2,Qd4,Rxd2,Qb4,Qxb4,Rxb4,Rcc2,Rf1,Rxa2,Rb8+,Kg7,Rb7,Kf8,Rb8+,Ke7,Rb7+,Ke6,Rb8,a5,Re8+,Kd7,Rf8,Ke7,Rb8,a4,Rfb1,Rxf2', 'R1b7+,Ke6,Re8+,Kf5,Rxf7+,Ke4,Rxf2,Rxf2,Kxf2', 'https://lichess.org/training/3xHgl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3XHkk', 'Rapid', 'mixopa', 2013, 'Gamophobe', 1953, 'e4,c5,d3,d6,Nf3,Nf6,Be2,Nc6,O-O,e6,c3,Be7,h3,O-O,Be3,Qc7,Nbd2,d5,Rc1,b6,exd5,Nxd5,d4,Nxe3,fxe3,cxd4,cxd4,Bb7,Qc2,Qg3,Ne4,Qg6,Bd3,Nb4,Qc7,Bxe4,Bxe4,Qxe4,Qxe7,Nd3,Rc7,Qxe3+,Kh2,Qf4+,Kg1,Qg3,Ng5,Nf4,Rf2,Rac8', 'Rxc8,Rxc8,Qxf7+', 'https://lichess.org/training/3XHkk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xHSO', 'Rapid', 'Toufik63', 1691, 'MikkeS', 1778, 'Nc3,e5,Nf3,d6,d4,exd4,Nxd4,h6,Qd3,Nf6,Qe3+,Be7,Nf3,b6,Bd2,Bb7,g3,O-O,Bg2,Re8,O-O,Ng4,Qf4,Nf6,Nd4,Bxg2,Kxg2,Nbd7,Ncb5,Nd5,Qg4,N7f6,Qf3,a6,Nc3,Nxc3,Bxc3,c5,Nc6,Qd7,Nxe7+,Qxe7,e3,b5,a3,a5,b4,axb4,axb4,Rxa1,Rxa1,c4,Kg1,Ne4,Be1,c3,Ra5,Rb8,h4,d5,Qf4,Rb7,f3,Qxb4,Ra8+,Kh7,Qf5+,g6,Qxd5,Nd6,Qe5,f6,Qxf6,Nf7,Bxc3,Qb1+,Kh2,Qxc2+,Kh3,Qf5+,g4,Qxf6,Bxf6,g5,h5,b4,Ra2,b3,Rb2,Rb6,Bd4,Rb7,Kg3,Nd6,Be5', 'Nc4,Bd4,Nxb2', 'https://lichess.org/training/3xHSO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Xhwo', 'Classical', 'stodorov', 1988, 'SanS3', 1925, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,Nc6,d4,Be7,Bd3,Nf6,Nxf6+,Bxf6,c3,O-O,O-O,Bd7,Bc2,Ne7,h4,g6,h5,Bg7,Bg5,f6,hxg6,hxg6,Bd2,Kf7,Nh4,Rh8,g3,g5,Nf3,Bc6,Bb3,Rh6,Re1,Bd5,c4,Qh8,cxd5', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/3Xhwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xkOk', 'Rapid', 'akuamarin5454', 1854, 'PaulMorphium', 1940, 'e4,c5,Bc4,d6,Nf3,Nc6,Nc3,g6,a3,Bg7,O-O,Bg4,h3,Bxf3,Qxf3,e6,Bb5,Ne7,d3,O-O,Be3,a6,Bc4,b5,Ba2,b4,axb4,cxb4,Na4,Rb8,d4,Nxd4,Bxd4,Bxd4,c3,Bg7,Qe3,bxc3,bxc3,Qc7,Rab1,Qa5,Bb3,Rxb3,Rxb3,Qxa4,Rfb1,d5,Qc5,Re8,Rb8,dxe4', 'Qxe7,Qd1+,Rxd1', 'https://lichess.org/training/3xkOk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Xl3C', 'Blitz', 'Sohan_Rehman', 1589, 'CSKA-V', 1583, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,d6,Bg5,O-O,Nbd2,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Nc6,Qf3,Kg7,h4,Nd4,Qd1,Bg4,f3,Bh5,g4,Bg6,h5,Bh7,h6+,Kg6,c3,Ne6,Qe2,Nxg5,O-O-O,c6,Bb3,a5,Qh2,a4,Bc4,b5,f4,Nxg4', 'Qh5+,Kf6,Qxg5#', 'https://lichess.org/training/3Xl3C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3XLiD', 'Blitz', 'FM Sicilian_Prince', 2402, 'angling', 2433, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,d5,exd5,O-O,O-O,cxd5,h3,c6,Qf3,h6,Ne2,Re8,Bf4,Ne4,c3,Bd6,Bxd6,Qxd6,Rad1,Qg6,Ng3,f5,Qh5,Qxh5,Nxh5,Bd7,Rfe1,Kf7,f3,Nc5,Bc2,Rab8,b4,Ne6,Bxf5,a5,a3,axb4,axb4,Ra8,c4,g6,cxd5,cxd5,Rxd5,Nf8,Rxe8,Bxe8,Be4,gxh5', 'Rf5+,Ke6,Rxf8', 'https://lichess.org/training/3XLiD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3XNZQ', 'Rapid', 'Piatka55', 1603, 'mhrdd', 1666, 'd4,d5,c4,e6,Nc3,Nf6,e3,dxc4,Bxc4,Nc6,Nf3,Be7,O-O,O-O,a3,a6,b4,b5,Bb3,Bd6,Bb2,e5,d5,e4,dxc6,exf3,Qxf3', 'Bg4', 'https://lichess.org/training/3XNZQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3XpxP', 'Rapid', 'TonoyanRob', 2044, 'jaybird', 1761, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Be7,Be3,Nf6,Bb5+,c6,Bd3,Nbd7,Nf3,O-O,O-O,Nd5,c4,Nxe3,fxe3,Nf6,Nc3,c5,d5,exd5,cxd5,Bd6,e4,Re8,h3,Bd7,Qb3,Rb8,Rae1,Qc7,a4,b6,Re2,Nh5,e5,Bxe5,Nxe5,Rxe5,Rxf7,Rxe2,d6,Qc6,Rxd7+,Kh8,Bxe2,Qxd7,Bxh5,Qxd6,Ne4,Qd4+,Nf2,Rf8,Bf3,Re8,Qc2', 'Re1+,Kh2,Qf4+,g3,Qxf3', 'https://lichess.org/training/3XpxP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xrKL', 'Classical', 'zaur91', 1869, 'leo593', 1875, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Bd7,h3,Bb5,Bxb5+,Qxb5,Qc2,Nc6,Be3,cxd4,cxd4,Nge7,Nc3,Qa6,a3,Nf5,Nxd5,Nxe3,Nxe3,Rc8,Qd2', 'Bb4,axb4,Qxa1+', 'https://lichess.org/training/3xrKL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xrna', 'Rapid', 'luismiarequipa', 1949, 'Tigr0909', 1981, 'd4,d5,c4,e6,Nf3,Nf6,e3,c5,dxc5,Bxc5,a3,O-O,b4,Bd6,Bb2,Nc6,cxd5,Nxd5,e4,Nf4,g3,Ng6,h4,Nge5,Be2,Nxf3+,Bxf3,Be5,Nc3,Bd4,O-O,e5,Na4,Bxb2,Nxb2,Nd4,Nc4,f6,Bg4,Bxg4,Qxg4,Rc8,Ne3,Rf7,Nd5,Qd7', 'Nxf6+,Rxf6,Qxd7', 'https://lichess.org/training/3xrna');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3XtPY', 'Blitz', 'GodoTisocan', 2133, 'Wey517', 1778, 'e4,c5,Nf3,e6,d3,Nf6,g3,Nc6,Bg2,d5,Nbd2,Qc7,O-O,Bd6,Re1,O-O,Nf1,d4,a3,b6,N3d2,Ba6,f4,e5,f5,Be7,g4,h6,h4,Nh7,Nf3,Qd8,h5,Ng5,Nxg5,Bxg5,Nh2,Qf6,Nf3,c4,Bxg5,hxg5,Qd2,cxd3,cxd3,Rac8,Rac1,Na5,Rxc8,Rxc8,b4,Nb3,Qb2,Rc3,Bf1,Qe7,Rd1,f6,a4,Qc7,b5,Bb7,Qa3,Bxe4,dxe4,Rxf3,Qb4,Qc2,Bc4+,Kh8', 'Qf8+,Kh7,Qg8+,Kh6,Qh8#', 'https://lichess.org/training/3XtPY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xUHi', 'Blitz', 'Ternero', 1644, 'yumraz', 1573, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,c4,Nxd4,Qxd4,Nf6,Nc3,Bd7,Be3,e5,Qd1,Be7,Be2,O-O,O-O,Rc8,Qd2,b6,b3,Ng4,Bxg4,Bxg4,f3,Bh5,Nd5,f5,exf5,Rxf5,Rad1,Bg5,Bxg5,Rxg5,h4,Rg6,f4,Bxd1,Rxd1,Qxh4,fxe5,dxe5,Ne3,Qe7,Nf5,Qf8,Qd5+,Kh8,Qxe5,Rg5,Rf1,Rc5,Qe7,Rcxf5', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/3xUHi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3XX6f', 'Blitz', 'HULK_BKD', 2452, 'IM Saparmyrat', 2601, 'd4,Nf6,Bf4,c5,e3,Qb6,Nc3,e6,a3,d5,Nf3,Bd7,Rb1,Bd6,Ne5,O-O,Bd3,c4,Be2,Be8,g4,Nfd7,Bg3,Nxe5,dxe5,Be7,h4,Nd7,g5,Rd8,Bg4,Nc5,Bf4,Qa5,Kf1,Ne4,Ne2,c3,Kg2,Nd2,Nxc3,Nxb1,Nxb1,Bc6,f3,d4,e4,Ba4,b3,Bb5,h5,d3,c4,Bc6,b4,Qa4,g6,fxg6,Bxe6+,Kh8,hxg6,h6,Qd2,Qc2,Bf7,Qxd2+,Nxd2,Be8,e6,Bxf7,gxf7,Rc8,Be5,Rc6', 'Rxh6#', 'https://lichess.org/training/3XX6f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xyaI', 'Rapid', 'Alphasoko', 1866, 'Thearjan', 1844, 'e4,d5,exd5,Qxd5,Nf3,Qd6,d4,Nf6,Nc3,Bg4,Be2,g6,Nb5,Qb4+,c3,Qa5,b4,Qb6,Qa4,Nc6,O-O,Bg7,c4,a6', 'c5,axb5,Qxa8+', 'https://lichess.org/training/3xyaI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xYax', 'Rapid', 'mikiscoffield', 1812, 'hyper_nova', 1908, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,cxd5,Nxd5,e4,Nxc3,bxc3,Be7,Bd3,O-O,O-O,b6,d5,exd5,exd5,Nb8,Bb2,Bb7,c4,c6,Be4,cxd5,Bxd5,Bxd5,cxd5,Na6,a3,Nc5,Rc1,Qd7,Ne5,Qb5,Rc2,Bf6,f4,Ne4,Re1,Nc5,Qd2,Nb3,Qb4,Qxb4,axb4,Rac8,Rxc8,Rxc8,Re2,a5,Nc6,Bd8,Ne7+,Bxe7,Rxe7,axb4,d6,Nc5,d7,Nxd7,Rxd7,h6,Rb7,Rc6,Bd4,b3,Rxb6', 'Rxb6,Bxb6,b2', 'https://lichess.org/training/3xYax');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3XyU8', 'Rapid', 'Danessz', 1640, 'Bryan67', 1621, 'e4,e5,Nf3,Nf6,Nxe5,h6,Nc3,d6,Nf3,Bg4,h3,Bh5,d3,Nc6,Be3,Be7,Be2,O-O,Qd2,a6,g4,Bg6,O-O-O,b5,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8,Qh4,Ne5,Qg3,Bh6,h4,Kf8,Kb1,Bxg5,hxg5,Nfd7,f4,Nc6,f5,Nce5,fxg6,Nxg6,Rdf1,Qxg5,Rh5,Qe7,Rh6,Nde5,Nd5,Qg5,Rh5,Qd2,Bf3,Rac8,Nf6,Re6,Nh7+,Ke7,Bd1,c5,Rhf5,Kd7,Ng5,Re7,Nxf7,Rxf7,Rxf7+,Nxf7,Rxf7+,Kc6,Qf3', 'Ne5,Qe2,Qxe2,Bxe2,Nxf7', 'https://lichess.org/training/3XyU8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Xyyh', 'Classical', 'ardeshiro', 1914, 'Miichaaeel', 2010, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,c3,c5,Nf3,Nc6,a3,cxd4,cxd4,Nge7,b4,Nf5,Bb2,Be7,Nbd2,O-O,Nb3,Rc8,Rc1,h6,b5,Nb8,g4,Nh4,O-O,Nxf3+,Qxf3,Qb6,Qd3,a6,a4,Rfd8,Bc3,Rc4', 'Ba5,Qa7,Bxd8', 'https://lichess.org/training/3Xyyh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3XZMD', 'Blitz', 'notlikethismove', 1855, 'damienhesse', 1798, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,Re1,d6,h3,Be6,Bxe6,fxe6,Nc3,O-O,d3,Nh5,Na4,Nf4,Nxc5,dxc5,Bxf4,exf4,Qd2,e5,Qc3,Qd6,Rad1,Nd4,Nxd4,cxd4,Qb3+,Kh8,Qxb7,Rab8,Qxa7,Rxb2,Rc1,Qg6,Qa3,Rbb8,Rb1,f3,g3,Ra8,Qc5,Qh5,Kh2,Rf6,Rb5,Re8,Rg1,Rh6,h4,Qg4,Qxe5', 'Rxh4+,gxh4,Qxh4#', 'https://lichess.org/training/3XZMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3xzmp', 'Rapid', 'isidorotegi', 2053, 'Alienated', 1943, 'd4,Nf6,Nf3,e6,c4,Bb4+,Bd2,Bxd2+,Nbxd2,b6,e3,Bb7,Be2,O-O,O-O,d6,Rc1,Nbd7,Qc2,a5,b3,Qe7,Bd3,g6,Rfe1,c5,Ne4,Nxe4,Bxe4,d5,cxd5,exd5,Bd3,Rac8,Qe2,Nf6,Ne5,Rc7,Ba6,Rfc8,Bxb7,Rxb7,Nf3,Ne4,dxc5,Rxc5,Rxc5,Qxc5,h3,Rc7,Rd1', 'Nc3,Qd3,Nxd1', 'https://lichess.org/training/3xzmp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3y2Yl', 'Rapid', 'pit53', 1877, 'razor-disc', 1863, 'e4,c5,f4,d5,e5,Nc6,Nf3,Bg4,Be2,e6,c3,g6,d3,Bg7,d4,c4,Kf2,Nge7,h3,Bxf3,Bxf3,h5,Nd2,Bh6,Nf1,Nf5,g3,b5,Ne3,Nxe3,Bxe3,a5,g4,hxg4,hxg4,Kd7,g5,Bg7,b3,Rxh1,Bxh1,Qh8,bxc4,bxc4,Qa4,Rb8,Bg2,Qh4+,Kf3,Rb2', 'Rh1,Qxh1,Bxh1', 'https://lichess.org/training/3y2Yl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3y6lK', 'Rapid', 'hugoaper', 1775, 'Gustavosnb', 1729, 'e4,c5,Bc4,d6,Nf3,Nf6,d3,e6,Bg5,g6,e5,dxe5,Nxe5,Qd4,Bxf6,Rg8,c3,Qf4,Qf3,Qc1+,Qd1,Qf4,Bb5+,Bd7,Nxd7,Nxd7,Bxd7+,Kxd7,Qf3,Qc1+,Ke2,Qc2+,Nd2,Bh6,Qxb7+,Kd6,Qe7+,Kc6,Rhd1,Rgd8,Qxf7', 'Qxd3+,Ke1,Bxd2+,Rxd2,Qxd2+', 'https://lichess.org/training/3y6lK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Y8qO', 'Classical', 'Julio60', 1800, 'carloschessking', 1893, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Be2,Nge7,O-O,cxd4,cxd4,Nf5,Nc3,Nfxd4,Nxd4,Qxd4,Be3,Qxe5,Nb5,a6,Bd4,Nxd4,Nxd4,Bd6,f4,Qe3+,Kh1,O-O', 'Rf3,Qe4,Bd3,Qxd4,Bxh7+', 'https://lichess.org/training/3Y8qO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Yav2', 'Blitz', 'Popoteur07', 1972, 'Neuron4', 1995, 'e4,c6,f4,d5,exd5,cxd5,Nf3,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Nf6,c3,Ne4,Nbd2,f5,O-O,Bd6,Ne5,O-O,c4,Rf6,cxd5,exd5,Ndf3,Nc6,Be3,Rc8,Rac1,Qa5,a3,a6,b4,Qd8,Rc2,Rh6,Rfc1,Qe8,Ng5,Qh5,Ngf3,Qe8,Nxc6,bxc6,Ne5,Bxe5,dxe5,Qh5,g3,Nxg3,hxg3', 'Qh1+,Kf2,Rh2#', 'https://lichess.org/training/3Yav2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3YBO0', 'Blitz', 'yugui', 2077, 'Jackdan_0', 2081, 'd4,g6,c4,Bg7,Nc3,c6,Nf3,Qb6,h4,Nf6,e4,Qa5,Qc2,d6,e5,dxe5,dxe5,Ng4,Bf4,Nxe5,Nxe5,Bxe5,Bxe5,Qxe5+,Be2,Bf5,Qb3,b6,O-O-O,O-O,g4,Be6,h5,Qf4+,Kb1,Qxf2,Rdf1,Qe3,Rf3,Qg5,hxg6,hxg6,Rfh3,Bxg4,Rh8+,Kg7,R1h7+,Kf6,Rxf8,Bf5+,Ka1', 'Qc1+,Nb1,Qxb1#', 'https://lichess.org/training/3YBO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3yEiA', 'Rapid', 'ZulmaiKhan', 2174, 'dautil', 2259, 'd4,e6,e3,d5,Nf3,Nf6,Bd3,Be7,O-O,c5,c3,c4,Bc2,b5,Qe2,Bb7,Nbd2,Nc6,a3,a5,h3,O-O,e4,dxe4,Nxe4,Nxe4,Qxe4,g6,Qe2,Bf6,Bh6,Re8,Rad1,a4,Bf4,Ne7,Bd2,Nd5,Nh2,e5,dxe5,Bxe5,Qg4,Qc7,Nf3,Nf4', 'Nxe5,Ne2+,Qxe2', 'https://lichess.org/training/3yEiA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Yeq4', 'Rapid', 'jorgechasi07', 1984, 'awesomeandmodest', 1972, 'd4,d5,c4,c6,Nc3,e6,a3,Nf6,e3,Bd6,Nf3,Nbd7,c5,Bc7,b4,b6,Bd2,a5,Be2,axb4,axb4,Rxa1,Qxa1,bxc5,bxc5,O-O,O-O,Ne4,Nxe4,dxe4,Ne1,Nf6,Nc2,Nd5,Nb4,Nxb4,Bxb4,f5,Rb1,Qg5,Qa7,Rf7,Ba5,Bxh2+,Kxh2,Rxa7,Rb8,Rxa5,Rxc8+,Kf7,Rxc6,Qh4+,Kg1,Ra1+,Bf1,Kf6,d5,f4,Rxe6+,Kf7,Rxe4,Kg8,Rxf4,Qd8,d6,Rc1,Rc4,Rxc4,Bxc4+,Kh8,e4,Qc8,d7,Qxd7,Bd5,Qc7,c6,g6,g3,Kg7,f4,Kf6,e5+,Kf5,Kf2,Qb6+,Kf3,Qc5', 'g4#', 'https://lichess.org/training/3Yeq4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3YHWX', 'Blitz', 'nowyszachy', 1865, 'donmilani', 1847, 'd4,e6,Nf3,b6,c4,Bb7,Nc3,Ne7,e4,Ng6,Bd3,Be7,b3,O-O,Bb2,d6,Qc2,c5,d5,e5,O-O-O,Na6,a3,Nb8,g3,a5,a4,Na6,Na2,Nb4,Nxb4,axb4,h4,Bc8,h5,Nh8,h6,g6,Rh2,Bg4,Be2,Bxf3,Bxf3,Bg5+,Kb1,f6,Bc1,Bxc1,Qxc1,Nf7,Bg4,Ng5,Re1,Qe8,f4,Rxa4,fxg5,Ra3,Be6+,Kh8,Ra2,Rxb3+,Ka1,Rxg3,gxf6,Rxf6,Rf1,Rgf3,Rxf3,Rxf3,Qd1,Qf8', 'Qxf3,Qxf3,Ra8+,Qf8,Rxf8#', 'https://lichess.org/training/3YHWX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3yJEm', 'Classical', 'moknights', 1794, 'hekmat20', 1765, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,e5,c5,Qh4,Nd5,Bxe7,Nxe7,Bd3,d6,exd6,Qxd6,O-O,Ng6,Bxg6,Qxg6,Re1+,Be6,Qa4+,Ke7,Nc3,Rhd8,Qa5,b6,Qa6,Kf8,Rac1,Bc8,Qe2,Bb7', 'Qe7+,Kg8,Qxb7', 'https://lichess.org/training/3yJEm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3YMkZ', 'Blitz', 'Biggermo', 2088, 'Roth2016', 2067, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,O-O,Be7,Bxc6,bxc6,c4,O-O,Nc3,c5,Nf3,Nxc3,bxc3,dxc4,Qe2,Be6,Rd1,Qc8,Ba3,Qa6,Bc1,Rfd8,Be3,Qa5,Ng5,Bxg5,Bxg5,Rxd1+,Rxd1,Qxc3,Qe4,Rb8,Qb7,Rc8', 'Qxc8+,Bxc8,Rd8#', 'https://lichess.org/training/3YMkZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ynmt', 'Classical', 'Casper047', 1786, 'OlegDmitriev', 1829, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Ng5,Nh6,Be3,O-O,O-O,Bg4,Qd3,Nb4,Qb3,c5,dxc5,Bxc5,Bxc5,dxc5,Nc3,Qxg5,Nd5,Bh3,Qxh3,Nxd5,Bxd5,Rfd8,Qc3,Rab8,Qxc5,b6,Qa3,a5,Rac1,Rdc8,Rc3,Qd2,Rfc1', 'Qxc1+,Rxc1,Rxc1#', 'https://lichess.org/training/3ynmt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3YQ2m', 'Blitz', 'DimonZh', 2214, 'tep45', 2088, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Nxc6,bxc6,e5,Nd5,Ne4,Qc7,f4,Qb6,c4,Ne3,Qd3,Bb4+,Bd2,O-O,Nc3,Bxc3,Bxc3,Nxf1,Rxf1,Ba6,b3,f6,O-O-O,fxe5,Bxe5,d5,Rf3,dxc4,Rg3,Rf7,Qc3,g6,bxc4,Rd8,Rxd8+,Qxd8,Rd3,Qb6,Bf6,Rf8,Rd7,Qg1+,Kb2,Qf2+,Kb3,Rb8+,Ka3,Qc5+,Ka4,Bb5+,cxb5', 'Qxb5+,Ka3,Qa6+,Qa5,Qxa5#', 'https://lichess.org/training/3YQ2m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3yVWV', 'Rapid', 'Kosmoss', 1737, 'Necromania', 1783, 'e4,c5,Bc4,e6,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bg5,Qa5+,Bd2,Qb6,e5,Qxb2,Bc3,Bb4,Bxb4,Qxb4+,Qd2,Qxc4,exf6,Qe4+,Qe2,Qxe2+,Kxe2,Ba6+,Ke3,gxf6,Nc3,Rb8,Rab1,Rxb1,Rxb1,Ke7,Na4,Bb5,Nc5,Kd6,Ne4+,Ke5,f4+,Kf5,Nd6+,Kg6,Nxb5,cxb5,Rxb5,Ra8,h4,Rc8,h5+,Kg7,Kd3,Rc6,g4,Ra6,Rb2,Ra3+,Ke2,Rg3,Rb7,Rxg4,Rxd7,Rxf4,Rxa7,Rf5,Ra3,Rxh5,Rg3+,Rg5', 'Rxg5+,fxg5,a4', 'https://lichess.org/training/3yVWV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Yw1a', 'Rapid', 'sloco', 1862, 'Axl_84', 1865, 'd4,d5,c4,e6,Nc3,Nf6,a3,Nbd7,f3,c6,e4,e5,dxe5,Nxe5,cxd5,cxd5,Bb5+,Bd7,exd5,Bxb5,Nxb5,Nxd5', 'Qxd5,Qxd5,Nc7+,Kd7,Nxd5', 'https://lichess.org/training/3Yw1a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3YX1e', 'Rapid', 'ElmoSavage', 2103, 'S7A7L7A7HHHHHH', 2047, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Ng4,Qd2,Nxe3,Qxe3,b5,Be2,f5,exf5,Bxf5,O-O-O,Nd7,g4,Be6,f4,Be7,f5', 'Bg5,Qxg5,Qxg5+', 'https://lichess.org/training/3YX1e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3yXEY', 'Blitz', 'tejachess', 2060, 'SHIVANSH501', 1786, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Be7,e3,O-O,Bd3,b6,O-O,Bb7,Ne5,Nbd7,cxd5,Nxd5,f4,c5,Rf3,N7f6,Rh3,cxd4,exd4,h6,Qf1,Nb4,Be3,Nxd3,Qxd3,Rc8,f5,exf5,Bxh6,gxh6,Rxh6,Re8,Qxf5,Qxd4+,Kh1,Bf8,Qxf6,Bxh6', 'Qxf7+,Kh8,Ng6#', 'https://lichess.org/training/3yXEY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Yyur', 'Rapid', 'kenaity-244', 1878, 'fredhont', 1877, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c4,Be7,Nc3,O-O,cxd5,Nxd5,Bc4,Be6,O-O,Qd7,Nxd5,Bxd5,Bxd5,Qxd5,Re1,Bf6,Bf4,c6,Be5,Nd7,Bxf6,Nxf6,Re7,b6,Qe2,Rfe8,Re1,Rxe7,Qxe7,Qd7,Qxd7,Nxd7,Rd1,Rd8,Kf1,Nf6,Ne5,c5,Nc6,Rd7,d5,Nxd5', 'Rxd5,Rxd5,Ne7+,Kf8,Nxd5', 'https://lichess.org/training/3Yyur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3yz0f', 'Rapid', 'King_chepelev', 2172, 'KatyaVlasenkova', 1760, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,Nc6,Ne2,Nb4,Bb5,c6,Ba4,b5,Bb3,c5,c3,Nc6,O-O,Qb6,Nf3,Ba6,h4,b4,Be3,bxc3,bxc3,cxd4,cxd4,Qb5,Re1,Bb4,Bd2,O-O,Rc1,Rfc8,Ba4,Qb6,Bxb4,Nxb4,Bxd7,Rd8,Qa4,Nd3,Rb1,Nxe1,Rxb6,Nxf3+,gxf3,axb6,Bb5,Bxb5,Qxb5,Rxa2,Qxb6,Rc8,Nc3,Ra1+,Kg2,g6,Nb5,Rcc1,Kg3,Rg1+,Kf4,Rh1,Nd6,Rxh4+,Kg5,Rh5+,Kf6,Ra8,f4,h6,f5,gxf5,Qb7,Rf8,Nxf7,Rg5,Kxe6,Rg6+,Kxf5', 'Rxf7+,Kxg6,Rxb7', 'https://lichess.org/training/3yz0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Z196', 'Blitz', 'Progressinchess', 1896, 'Chartreux1', 1886, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,c3,Nf6,b4,Bb6,a4,a6,Bg5,O-O,h3,h6,Bh4,Be6,Nbd2,d5,exd5,Bxd5,Bxf6,gxf6,O-O,Kh7,Nh4,Bxc4,Nxc4,Rg8,Qh5,Rg7,Qf5+,Kh8,Kh1,Rg5,Qe4,Qd7,f4,Rg3,fxe5', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/3Z196');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3z3c9', 'Rapid', 'Lucre53', 1855, 'chawa', 1999, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Be2,e5,d5,a5,O-O,Na6,Bg5,Bd7,a3,Nc5,Qc2,a4,Be3,Nb3,Rad1,Ng4,Bg5,f6,Bc1,Nxc1,Rxc1,f5,Qd2,Bh6,Qc2,Bxc1,Qxc1,Kg7,Ng5,f4,Ne6+,Bxe6,dxe6,Nf6,Nd5,Nxd5,exd5,c6,Qc3,Qg5,Bf3,Rac8,Qb4,Qe7,Qxa4,cxd5,cxd5,Rf5,b4,Rc7,Qb3,Qg5,b5,e4,Bxe4,Re5,Bf3,h5,Qb4,Rc5,a4,Qf5,Qa5,Qd3,Qd8', 'Qxf1+,Kxf1,Rc1+,Bd1,Rxd1#', 'https://lichess.org/training/3z3c9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Z5XP', 'Blitz', 'Falepaco', 2574, 'NM TioCridineno', 2405, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,g3,e5,Nde2,h5,h3,Be6,Bg2,Be7,Be3,Nbd7,f4,b5,a3,Rc8,Qd2,Nb6,b3,Qc7,O-O,O-O,f5,Bd7,Bf3,Bc6,g4,hxg4,hxg4,d5,exd5,e4,Nxe4,Nbxd5,Bf2,Rfd8,Nxf6+,Nxf6,Qe3,Bc5,Qxc5,Bxf3,Qxc7,Rxc7,Nd4,Rc3,g5,Ng4,Nxf3,Rxf3,Bh4,Rh3,Be1,Ne3,Rf2,Rg3+,Kh2,Rxg5,Re2,Nxf5,a4,Rd6,Kh1,Rh6+,Rh2,Rxh2+,Kxh2,Nd4,axb5,axb5,Rc1,Nf3+,Kh3,Kh7,Bf2,Rd5,Kg3,Ne5,c4,bxc4,bxc4,Rd3+,Kg2,Nc6,c5,Rd5,Rb1,Re5,Rb6,Re6,Bg3,Kg6,Bd6,Nd4,Rb7,f5,Kf2,Kf6,Bf8,g5', 'Bg7+,Kg6,Bxd4', 'https://lichess.org/training/3Z5XP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3z6Hr', 'Blitz', 'el_rupe', 2451, 'IM MannySen', 2471, 'd4,c5,d5,d6,c4,a6,a4,Nf6,Nc3,g6,e4,Bg7,h3,O-O,Bg5,h6,Be3,e6,Bd3,Nbd7,Nf3,Re8,dxe6,Rxe6,Qd2,Kh7,Nd5,Nxe4,Bxe4,Rxe4,Qc2,f5,Nd2,Re8,O-O,Ne5,Bf4,Bd7,a5,Kh8,Nb6,Rb8,Rad1,Bc6,Rfe1,Qf6,Nf1,Qh4,Bg3,Qg5,h4,Qg4,Ne3,Nf3+,gxf3,Qxf3,Nbd5,f4,Bxf4,Bxd5,Nxd5,Bd4,b4,Rf8,bxc5,Qg4+,Kh2,Qxh4+,Kg2,Qg4+,Bg3', 'Rxf2+,Qxf2,Bxf2,Kxf2,Rf8+', 'https://lichess.org/training/3z6Hr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3z7jy', 'Classical', 'mwange', 1730, 'qq12', 1801, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Bg5,Be7,Nc3,O-O,Qd3,Rb8,b3,d5,e5,Nd7,Bxe7,Qxe7,f4,Qc5+,Kh1,Rb4,Rae1,Rd4,Qh3,Nb6,e6,fxe6,Rxe6,Rdxf4', 'Rxf4,Rxf4,Re8+,Rf8,Qe6+', 'https://lichess.org/training/3z7jy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3z9Qs', 'Classical', 'laben', 1849, 'Rajah30', 1860, 'd4,d5,Bf4,e6,Nf3,c5,e3,Nc6,c3,Nf6,h3,Qb6,Qb3,c4,Qxb6,axb6,Nbd2,b5,Be2,b4,O-O,Kd7,Ne5+,Nxe5,dxe5,bxc3,bxc3,Ne8,Rfd1,f5,Nxc4,Kc6,Bf3,b5,Nb2,Be7,c4,bxc4,Nxc4,g5,Bh2,g4,hxg4,fxg4,Bxg4,dxc4', 'Bf3+,Kc5,Bxa8', 'https://lichess.org/training/3z9Qs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3zakD', 'Classical', 'Fj00', 1892, 'slavikstvoegorayona', 1822, 'c4,Nf6,Nc3,d6,g3,e5,Bg2,c6,e4,Be7,h3,O-O,Nge2,Nbd7,d3,Re8,O-O,Nf8,Kh2,Bd7,a4,Ng6,b4,Rc8,Be3,Qc7,b5,c5,a5,a6,b6,Qd8,Qd2,Nf8,f4,Ne6,f5,Nd4,Ra2,Nc6,g4,h6,Ng3,Nh7,Nd5,Bg5,Nh5,Nb4,Nxb4,Bxe3,Qxe3,cxb4,f6,g5,Kg3,Re6,Raf2,Rc5,h4,Rxa5,hxg5,hxg5,Rf5,Kf8,Rxg5,Rxf6,Nxf6,Nxf6,Qf2,Be6,Qxf6,Qxf6,Rxf6,b3,Rf1,b2,Rh5,Ra3,Rh2,Bxc4,Rb1,Rxd3+,Bf3,d5,Kf2,Rd2+,Kg1,Rd3,Be2,Rg3+,Kf2,Rb3,Bd1,Rxb6,Ke3,d4+,Kf3,Rf6+,Kg3,Rf4,Bf3,b5,Rbxb2,a5,Rh5,f6,Rf5,Rxf5,gxf5,a4,Kf2', 'a3,Rb1,a2,Ra1,b4', 'https://lichess.org/training/3zakD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3zaT0', 'Rapid', 'kkigan312', 2024, 'leogalhardo', 1955, 'Nf3,Nf6,c4,g6,b4,Bg7,Bb2,O-O,g3,d5,c5,b6,cxb6,axb6,d4,Nc6,a3,Ne4,e3,Bb7,Bg2,e6,O-O,Ne7,Nfd2,Nf6,Nc3,c6,Rc1,Rc8,Ne2,h5,Nf4,g5,Nd3,h4,Ne5,Ng6,Nxg6,fxg6,Nf3,Ne4,Bh3,Qf6,Ne5,Rc7,b5,Qe7,Nxg6,Qe8,Nxf8,Kxf8,bxc6,Bxc6,f3,Nd6,Qc2,Nc4,Rfe1,hxg3,hxg3,Qh5,Bg4,Qf7,Bc3,Rc8,Bb4+,Kg8,Kg2,Be8,Qf2,b5,Rh1,Qf6,e4,dxe4,fxe4,Qxf2+,Kxf2,Bxd4+,Kg2,Bf7,Rh6', 'Ne3+,Kf3,Rxc1', 'https://lichess.org/training/3zaT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3zBlm', 'Rapid', 'Manuel69', 1813, 'Windyy', 1727, 'Nc3,d5,d4,c5,dxc5,e6,e3,Bxc5,Nf3,Nf6,Nd4,e5,Nb3,Bb4,Bd2,O-O,Be2,b6,O-O,Nc6,a3,Be7,Bb5,Bb7,Ne2,Ne4,Ng3,Bh4,Nxe4,dxe4,Bxc6,Bxc6,Bb4,Qxd1,Rfxd1,Rfc8,g3,Bf6,Bd6,Ba4,Rac1,Rc6,Na1,Rd8,Bb4,Rxd1+,Rxd1,Bxc2,Nxc2,Rxc2,Bc3,g5,Kf1,Kg7,Ke1,Kg6,Rd7,Rc1+,Kd2,Rh1,Rxa7,Rxh2,Ke2,h5,Ra6,Kf5,Rxb6,h4', 'g4+,Kxg4,Rxf6', 'https://lichess.org/training/3zBlm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3zD8c', 'Blitz', 'NM Quaritch79', 2474, 'BehindBluEyes', 2316, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,cxd4,Nxd4,Nc6,Bb5,Bc5,Bxc6,bxc6,O-O,Qb6,Be3,Ba6,Re1,O-O,Na4,Qa5,Nxc5,Qxc5,Nxe6,Qe7,Nxf8,Rxf8,Qg4,f6,e6,Nc5,f5,Ne4,b3,Qb4,c4,Nd6,Bh6,Ne8,Re3,Kh8,Bf4,dxc4,Rh3,cxb3,Qh5', 'Qd4+,Be3,Qxa1+', 'https://lichess.org/training/3zD8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ZED8', 'Rapid', 'ziahashemi', 1761, 'temp7396', 1746, 'e4,c5,Bc4,e6,Nc3,Nc6,d3,Na5,Bb3,Nxb3,axb3,Bd6,Qf3,Ne7,Bf4,Bxf4,Qxf4,O-O,Nb5,f6,Nc7', 'e5,Qd2,Qxc7', 'https://lichess.org/training/3ZED8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ZMiY', 'Blitz', 'doreality1991', 2689, 'GM AtalikS', 2657, 'e4,e6,d4,d5,Nc3,Nf6,Bd3,dxe4,Nxe4,Nbd7,Nf3,c5,Nxf6+,Nxf6,dxc5,Bxc5,O-O,O-O,Qe2,b6,Rd1,Qc7,Bg5,Bb7,Bxf6,gxf6,Be4,Rfd8,Bxb7,Qxb7,Rd3,Rxd3,Qxd3,Rc8,Rd1,a5,a4,Be7,c4,Rd8,Qe2,Rxd1+,Qxd1,Qe4,b3,Bc5,g3,Qf5,Kg2,Qe4,Qd2,Kg7,h3,Qb1,Qc3,Qe4,Qd2,e5,Qd1,Bd4,Kf1,f5,Qe2,h5,Nxd4', 'Qh1#', 'https://lichess.org/training/3ZMiY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ZmNl', 'Rapid', 'aldysolsel', 1781, 'Krypamaya', 1861, 'd4,Nf6,c4,e6,Nf3,b6,e4,Nxe4,Bd3,d5,cxd5,exd5,O-O,Bd6,Re1,Bb7,Ng5,O-O,Nxe4,dxe4,Bxe4,Bxe4,Rxe4,Nc6,a3,Qf6,Be3,Rfe8,Qc2,Re7,Qxc6', 'Bxh2+,Kxh2,Qxc6', 'https://lichess.org/training/3ZmNl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ZQwy', 'Rapid', 'rafalec6502', 1906, 'WhimsicalWhale', 1841, 'f4,d5,Nf3,Nf6,b3,e6,Bb2,Be7,Nc3,Nc6,e3,O-O,Be2,Bd7,O-O,Bd6,d4,Ne4,Nxe4,dxe4,Ng5,f5,c4,h6,Nh3,Nb4,a3,Nd3,Bxd3,exd3,Qxd3,Qe7,c5,Bxf4,Nxf4,Qg5,b4,Bc6,Qc4,Kh8,g3,e5,Ne6,Qxe3+,Rf2,Rf6,d5,Bd7,Nxc7,Rc8,d6,Bc6,Nd5,Bxd5,Qxd5,f4,Bxe5,fxg3,Bxf6', 'Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/3ZQwy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ZR3N', 'Rapid', 'Chingus_Khan', 1939, 'trendmazter', 1931, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,h6,f3,g5,Be3,Qc7,Qd2,b5,O-O-O,Bd7,h4,g4,h5,b4,Na4,Nc6,Nxc6,Bxc6,Bb6,Qd7,e5,Bxa4,exf6,Bxb3,cxb3,gxf3,gxf3,Rg8,Kb1,Qb5,Qd4,a5,Rhe1,a4,Qe4,Rc8,Qb7,Qf5+,Ka1,Qc2,Rb1,a3,Rxe6+,fxe6', 'f7#', 'https://lichess.org/training/3ZR3N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Zri2', 'Rapid', 'rambojyp', 1823, 'oximahos', 1736, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Bc4,O-O,O-O,Nxe4,Nxe4,d5,Bxd5,Qxd5,Nc3,Qc4,Bf4,c5,Ne5,Qb4,Nd5,Qa5,Nxe7+,Kh8,c3,cxd4,cxd4,Qb4,Nxc8,Rxc8,Nxf7+,Kg8,Nh6+,Kf8,Qg4,Nc6,d5,Bxh6,dxc6,Qxf4', 'Qxf4+,Bxf4,cxb7', 'https://lichess.org/training/3Zri2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ZSLd', 'Classical', 'Zandoid', 1739, 'StarbuckTheDeer', 1836, 'd4,Nf6,c4,g6,f3,Bg7,e4,d6,Nc3,c5,Be3,cxd4,Bxd4,Nc6,Nge2,O-O,Be3,Be6,Nf4,Bd7,Be2,Qa5,O-O,e5,Nfd5,Nxd5,cxd5,Nd4,Bd3,f5,exf5,gxf5,Rf2,b5,Rd2,b4,Bxd4,exd4,Ne2,Qxd5,b3,Rfe8', 'Bc4,Qxc4,bxc4', 'https://lichess.org/training/3ZSLd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3zsRP', 'Blitz', 'Van_Opada', 2132, 'DavidCecxladze', 1975, 'd4,Nf6,Nf3,c5,c3,cxd4,cxd4,e6,Nc3,d5,Bf4,Be7,e3,O-O,h3,Nbd7,Bd3,a6,O-O,b5,Rc1,Bb7,a3,Rc8,Ne5,Nb6,g4,Nc4,Nxc4,dxc4,Bb1,Qb6,g5,Nd5,Nxd5,Bxd5,Qh5,g6,Qh6,Bd6,Bxd6,Qxd6,f4,a5,h4,b4,axb4,axb4,h5,c3,bxc3,bxc3,hxg6,fxg6,Bxg6,hxg6,Qxg6+,Kh8,Kf2,Rc7', 'Rh1+,Bxh1,Rxh1+,Rh7,Rxh7#', 'https://lichess.org/training/3zsRP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3zTht', 'Rapid', 'Konnig', 1654, 'Tony1970', 1623, 'e4,a5,d4,d5,e5,e6,Nf3,Nc6,Be2,Bd7,O-O,Nge7,a3,Nf5,c3,Be7,Nbd2,O-O,Re1,Qb8,Nf1,Qa7,Ng3,Nxg3,hxg3,Qb8,Bd3,a4,Qc2,h6,Nh4,Bxh4,gxh4,Ne7,Bh7+,Kh8,h5,Nf5,Bxf5,exf5,Bf4,Be6,Re3,Qd8,g3,b5,Kg2,Qb8,Rh1,c6,f3,Kg8,Rh4,Ra7,g4,fxg4,fxg4,Qc8,Rg3,Re8,g5,Bf5,Qf2,Qd8,Rh2,Be4+,Kg1,b4,gxh6,Re6,hxg7,Bh7,Bg5,Qa5,Bf6,bxa3,bxa3,Qb5,Rh4,Qb1+,Kh2,Rb7,Rf4', 'Rb2,Rg2,Rxf2', 'https://lichess.org/training/3zTht');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3Ztqz', 'Rapid', 'Atul81', 1958, 'Glxblt76', 1962, 'c4,Nf6,Nc3,g6,g3,Nc6,Bg2,b6,Nf3,Bb7,Nd4,Na5,Bxb7,Nxb7,d3,Bg7,O-O,c5,Nf3,O-O,e4,d6,Bg5,h6,Bxf6,Bxf6,Qd2,Kh7,Nd5,e5,a3,Bg5,Nxg5+,Qxg5,f4,exf4,Rxf4,Nd8,Raf1,f5,exf5,gxf5,Qe2,Nc6,Qf2,Nd4,Re1,Rae8,h4,Rxe1+,Qxe1,Ne2+,Qxe2,Qxg3+,Kh1,Rf7,Qf3,Qe1+,Kh2,Qd2+,Qf2,Qxd3,Ne3,Re7,Rxf5,Qxe3', 'Rf7+,Rxf7,Qxe3', 'https://lichess.org/training/3Ztqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3zuCr', 'Rapid', 'Ronnie--Pickering', 1957, 'skatoria', 1664, 'e4,b6,d4,Bb7,Bd3,e6,Nc3,Qf6,Be3,Qg6,Qf3,f6,O-O-O,Qf7,Qe2,Qg6,Nb5,Kd8,Bf4,c6,Nc7,Qxg2,Nf3,e5,dxe5,g5,Rhg1,Qh3,Rg3,Qh5,Nxa8,gxf4,Rg7,Bxa8,Rgg1,fxe5,Nxe5,Qxe5,h4,Bh6,Kb1,Bg7,c3,Ne7,Rg5,Qf6,e5,Qe6,Rxg7,Nf5,Rg5,Nxh4,Rh5,Ng6,Rg1,Nf8,Bf5,Qf7,Qf3,Na6,Rhg5,Nc7,Qxf4,Nd5,Qg4,Ne7,f4,Nxf5,Rxf5,Qg6', 'Qh4+,Ke8,Rxg6', 'https://lichess.org/training/3zuCr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3zUXm', 'Rapid', 'Nevobsemad', 1763, 'paikwileenmat', 1721, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,c3,O-O,Nbd2,a6,Nf1,b5,Bb3,Bb7,Ng3,d5,Bg5,dxe4,Bxf6,exf3,Bxe7,fxg2,Bxd8,gxh1=Q+,Nxh1,Raxd8,Ng3,e4,Qg4,Ne5,Qg5', 'Nf3+,Kf1,Nxg5', 'https://lichess.org/training/3zUXm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ZVJZ', 'Blitz', 'DuxCarnorum', 1997, 'IRONLONGANISA', 1846, 'e4,d5,e5,c5,Nf3,Bg4,Bb5+,Nc6,h3,Bh5,g4,Bg6,e6,Qc7,exf7+,Bxf7,Ng5,Qe5+,Qe2,Qxg5,O-O,Nf6,d4,Qh4,Qf3,e6,c4,Bd6,cxd5,Nxd5,Nc3,O-O,Bxc6,bxc6,dxc5,Bxc5,Qg2,Nxc3,bxc3,e5,Qxc6,Bb6,Qg2,Rad8,Ba3,Bd5,Qh2,Rf7,Rad1,Rfd7,Rfe1,Bf3,Rxd7,Rxd7,Qxe5,Rd8', 'Qe6+,Kh8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/3ZVJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ZvmM', 'Blitz', 'eye2', 2145, 'DarkGreenPawn', 2120, 'c4,e6,Nf3,d5,e3,Nf6,d4,c6,a3,Nbd7,Nc3,Be7,b4,O-O,Bd3,dxc4,Bxc4,Nd5,Bb2,N7f6,O-O,Nxc3,Bxc3,Nd5,Bb2,b6,e4,Nf6,Re1,a5,Qd2,Ba6,Bb3,c5,bxc5,bxc5,d5,c4,Bc2,exd5,exd5,Nxd5,Rad1,c3,Bxc3,Nxc3,Bxh7+,Kxh7,Qc2+,Bd3,Rxd3,Qe8,Rd7+,Kg8,Rexe7,Qc8,Rc7,Qg4,Rxc3,Rad8,h3,Qh5,Rc5,Qh6,Rxa5,Rc8,Rc5,Rb8,Re4,Rfd8,Rh4,Qg6,Rch5,Rb1+,Kh2,Qd6+,Ne5,g6,Rh8+,Kg7,Rxd8,Qxe5+,f4,Qa1,Qf2,Rh1+,Kg3,Qc3+,Qf3,Qe1+,Qf2,Qc3+,Qf3,Qe1+,Kg4', 'f5+,Kg5,Qe7#', 'https://lichess.org/training/3ZvmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ZYOn', 'Rapid', 'CheckMagnet67', 1878, 'Kicrek', 1833, 'e4,Nc6,d4,Nf6,Nc3,g6,e5,Ng8,Nf3,e6,Bb5,d5,O-O,Bd7,Bxc6,Bxc6,Re1,Qd7,Bg5,h6,Bf6,Nxf6,exf6,O-O-O,Ne5,Qe8,a4,Bd6,Qd3,a6,f4,g5,f5,exf5,Qxf5+,Kb8,Nxc6+,Qxc6,Qxd5', 'Bxh2+,Kxh2,Rxd5', 'https://lichess.org/training/3ZYOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ZzbX', 'Rapid', 'victorrmza', 1897, 'Jalilovich', 1902, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Bg4,h3,Bh5,Bf4,Nd7,Qd2,O-O-O,O-O-O,e5,dxe5,Bxf3,gxf3,Nxe5', 'Qxd8+,Qxd8,Rxd8+,Kxd8,Bxe5', 'https://lichess.org/training/3ZzbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3ZzkP', 'Rapid', 'adityapande9', 2049, 'Galih_Setiawan', 1781, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd5,Qf6,O-O,Ne7,Qxc5,Ng6,Qe3,b6,Bd5,Rb8,Nc3,Bc5,Qg3,d6,Be3,O-O,Rad1,Ne5,f4,Nd7,e5,dxe5,fxe5,Qxe5,Bxc5,bxc5,Rxf7,Rxf7,Bxf7+,Kxf7', 'Rxd7+,Bxd7,Qxe5', 'https://lichess.org/training/3ZzkP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('3zzkq', 'Rapid', 'Maagalvez', 1662, 'elira', 1691, 'd4,c5,e3,cxd4,exd4,g6,Nf3,Bg7,c4,Qb6,c5,Qb4+,Qd2,Qa4,Nc3,Qc6,Bc4,Nf6,Ne5,Qxg2,Bxf7+,Kf8,Rf1,Nc6,Qh6,Nxe5,dxe5,Kxf7,Qf4,Rf8,exf6,Bxf6,Be3,Kg7,Bd4,Bxd4,Qxd4+,Rf6,O-O-O,d6,Ne4,e5,Qd5,Be6', 'Qxb7+,Rf7,Qxa8', 'https://lichess.org/training/3zzkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40Ej1', 'Blitz', 'jitu_chowdhury', 1724, 'Di2323ma', 2119, 'e4,c5,Nf3,d6,c3,e6,d4,d5,exd5,exd5,Bb5+,Bd7,Qe2+,Be7,O-O,Nf6,Bxd7+,Nbxd7,Re1,Kf8,Ne5,h6,Bf4,Ne4,f3,Ng5,h4,Ne6,Nxf7', 'Nxf4,Qxe7+,Qxe7,Rxe7,Kxe7', 'https://lichess.org/training/40Ej1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40hTp', 'Blitz', 'Andrew_Kait', 2210, 'Matiichuk_Alexander', 1889, 'Nf3,d5,g3,c6,Bg2,Nf6,O-O,g6,c4,Bg7,cxd5,cxd5,Nc3,O-O,d4,Bg4,e3,Bxf3,Bxf3,e6,Re1,Nbd7,e4,dxe4,Nxe4,Nxe4,Bxe4,Nb6,Be3,Nd5,Qb3,Nxe3,fxe3,Rb8,Rad1,Qa5,d5,exd5,Bxd5,Qc5,Bc4,b5,Bf1,Bh6,Rc1,Qb6,Rc3,b4,Rd3,a5,Kh1,Rfe8,Bg2,Rbd8,Rf1,Qe6,Bd5,Rxd5,Rxd5,Bxe3,Qc4,Rc8,Qd3,f5,Rd8+,Rxd8,Qxd8+,Kg7,Qd3,Kh6,Re1', 'Qc6+,Qd5,Qxd5#', 'https://lichess.org/training/40hTp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40ii7', 'Rapid', 'Omusini', 2043, 'Lapetya', 2085, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,g4,b5,Bb3,e5,Nf5,g6,Ne3,b4,Ne2,Bb7,f3,Nbd7,Ng3,Qb6,g5,Nh5,Nxh5,gxh5,Nd5,Qd8,Nxb4,h4,Be3,Rg8,Rg1,Qc7,Nd5,Bxd5,Qxd5,O-O-O,Qxf7,Rg7,Qd5,Nc5,Bc4,Qb7,Qxb7+,Kxb7,O-O-O,Be7,Bd5+,Kc7,b4,Nb7,c4,a5,a3,Ra8,b5,Rb8,Kc2,Nc5,Rg4,Rf8,f4,exf4,Bxf4,h6,e5,hxg5,exd6+,Bxd6,Bxg5,Rf2+,Rd2,Rxg5,Rxh4,Rxd2+,Kxd2,Nb3+,Kc3,a4,Rh7+,Kb8,b6,Be5+,Kb4,Rg1,Kxa4,Rb1,Re7', 'Nc5+,Ka5,Bc3#', 'https://lichess.org/training/40ii7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40lGs', 'Rapid', 'Feliks240709', 1688, 'Yan_Erm', 1696, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bb4,O-O,O-O,d3,d5,exd5,Nxd5,Nxd5,Qxd5,Bxc6,bxc6,c3,Bd6,Re1,Re8,Bd2,Bg4,Be3,Qe6,Ng5,Qf5,Qd2,c5,Ne4,Rad8,Ng3,Qg6,Ne4,Bf5,Bxc5', 'Bxe4,Rxe4,Bxc5', 'https://lichess.org/training/40lGs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40QQ4', 'Rapid', 'playforpleasure', 1872, 'Lexa-ug', 1888, 'd4,Nf6,g3,d5,Bg2,c5,dxc5,e6,b4,b6,cxb6,axb6,c3,Bd6,Nf3,O-O,O-O,Ba6,Re1,Nc6,a3,h6,Bb2,Ne5,Nxe5,Bxe5,Nd2,Rc8,e4,Bxc3,Bxc3,Rxc3,exd5,Nxd5,Ne4,Rc8,Nd2', 'Nc3,Qf3,Qxd2', 'https://lichess.org/training/40QQ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40SbQ', 'Rapid', 'Isatis34', 2102, 'AleaxMeph', 1974, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,Be3,a6,Qf3,b5,a3,Bb7,O-O-O,Rc8,Qg3,Qa5,Bxb5,axb5,Ndxb5,Nf6,Nd6+,Bxd6,Qxd6,Qe5,Qd3,O-O,f4,Qh5,h3,d5,g4,Qh4,exd5,Nxd5,Nxd5,exd5,Qxd5,Rfd8,Qb5,Rxd1+,Rxd1,Qe7,Bc5,Qc7,Bb6,Qxf4+,Kb1,Qe4,Qc5,Ne7', 'Qxc8+,Nxc8,Rd8+,Qe8,Rxe8#', 'https://lichess.org/training/40SbQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40T7W', 'Rapid', 'sandeep27', 1742, 'logos7', 1815, 'e4,e6,d4,b6,Nf3,Bb7,Nc3,Bb4,Bg5,f6,d5,fxg5,dxe6,dxe6,Qxd8+,Kxd8,Nxg5,Bxc3+,bxc3,Ke7,O-O-O,h6,Nf3,Bxe4,Ne5,Nf6,f3,Bh7,Bc4,Nbd7,Nc6+,Kf7,Rhe1,Nd5', 'Bxd5,exd5,Re7+,Kf6,Rxd7', 'https://lichess.org/training/40T7W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40UWQ', 'Blitz', 'DoriaNNN', 1859, 'Cachito1', 1736, 'e4,b6,d4,Bb7,Bd3,e6,Nd2,d6,Ngf3,Nd7,c3,c5,O-O,Ngf6,a4,c4,Bxc4,Nxe4,Nxe4,Bxe4,Re1,Bb7,a5,Be7,axb6,Nxb6,Bb5+,Nd7,Qa4,Bc8,Bc6,Rb8,Qxa7,O-O,Bg5,Bxg5,Nxg5,Rxb2,Ne4,Nb6,Qa3,Nc4,Qa4,d5,Nc5,Qh4,Nd3,Rb6,Bb5,Bb7,Bxc4,dxc4,Ne5,Bd5,Nxc4,Rc6,Ne3,Rxc3,Nxd5,exd5,Qb4,Rc4,Qd6,Qxd4', 'Qxf8+,Kxf8,Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/40UWQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40W17', 'Blitz', 'dumpfbacker', 1834, 'iamtrying2playchess', 1659, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nc6,Nc3,Qa5,a3,e6,h3,Bh5,Nh2,O-O-O,Bxh5,Nd4,Bf3,f5,O-O,e5,d3,Nf6,Bg5,h6,Bd2,g5,Ne4,Nxf3+,Nxf3,Qa6,Nxf6,Qxf6,Re1,Bd6,Bc3,Rhe8,Qd2,g4,hxg4,fxg4,Nh2,h5,f4,gxf3,Nxf3,Rg8,Qe3,Bc5,d4,exd4,Nxd4,Bxd4,Bxd4,Rxd4,Rad1,Rxd1,Rxd1,Qxb2', 'Qe6+,Kb8,Qxg8#', 'https://lichess.org/training/40W17');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40wEu', 'Rapid', 'Denis_Galkin', 1856, 'Crush3r', 1907, 'Nf3,Nf6,d4,e6,c4,c5,Qc2,a6,e3,cxd4,exd4,d5,Nc3,Nc6,Bf4,dxc4,Bxc4,Nxd4,Nxd4,Qxd4,Ne2,Bb4+,Kf1,Qb6,Be3,Bc5,Bxc5,Qxc5,Rc1,Bd7,Qb3,O-O,Bxa6,Qa7,Bc4,Rfc8,Ng3,Qxa2,Qxa2,Rxa2,Rc2,Ra1+,Ke2,Rxh1,Nxh1,Rxc4,Rxc4,Bb5,b3,Nd5,Kd2,Bxc4,bxc4,Nc7,f4,Kf8,Nf2,Ke7,Ne4,Na6,Kc3,f5,Ng5,h6,Nf3,Nc5,h4,Nd7,Kd4,Kf6,c5,g6,g3,h5,Kc4,e5,Nd2,Ke6,Nb3,e4,Nd4+,Ke7,Kd5,Nf6+,Kc4,Kd7,Kb5,Nd5,c6+,bxc6+,Nxc6,Ne3,Ne5+,Ke6,Nxg6,Nf1,Ne5,e3,Nd3,Nxg3,Kc4,Ne2,Ne1,Nxf4,Kd4,e2,Ke3,Ke5', 'Nf3+,Ke6,Kxf4', 'https://lichess.org/training/40wEu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40XPQ', 'Rapid', 'Barn-ney', 1605, 'asis63', 1633, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Nc6,Nf3,Bg4,Ne5,Bh5,Qa4,Rc8,e3,e6,Nc3,Nf6,Nxc6,bxc6,Qxa7,Ra8,Qb7,e5,Qxc6+,Nd7,Bxe5,f6,Bg3,Bb4,Qxd5,Bg6,Bc4,Nb6,Qe6+,Be7,Qxb6,Qxb6,Bb3,Rc8,O-O,Bd3,Nd5,Qc5,Nxe7,Qxe7,Rfc1,Rxc1+,Rxc1,Kd7', 'Rc7+,Kd8,Rxe7', 'https://lichess.org/training/40XPQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('40ZlB', 'Classical', 'viggie', 1852, 'vladimirS', 1840, 'd4,Nf6,c4,b6,Nc3,Ba6,Qa4,Bb7,Qc2,h6,e4,d6,Nf3,Nbd7,Be2,e5,d5,Nc5,Be3,Ncd7,h3,g5,O-O-O,Nh7,Nh2,c6,dxc6,Bxc6,Kb1,Rb8,Nd5,Nhf6,Nc3,a6,Ng4,b5,c5,b4,Nxf6+,Nxf6,Nd5,Bxd5,exd5,dxc5,d6,Nd7,Qb3,Rb6,Rd2,a5,Bh5,Qf6,Rhd1,Rc6,Qa4,Rxd6,Rxd6,Bxd6,Bxc5,Qf5+,Ka1,Bxc5,Bg4,Qf6', 'Qxd7+,Kf8,Qc8+,Kg7,Qxc5', 'https://lichess.org/training/40ZlB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41Bak', 'Rapid', 'Bellydebul', 1892, 'MrShakes', 1911, 'd4,Nf6,c4,c5,d5,b5,Nc3,b4,Na4,d6,f3,g6,e4,Nbd7,Bd3,Bg7,Rb1,O-O,Ne2,Ba6,O-O,Ne5,b3,Qa5,f4,Nxd3,Qxd3,Nd7,Bd2,Qd8,Kh1,Nb6,Nb2,e6,Ng3,exd5,exd5,Qc7,f5,Nd7,Ne4,Ne5,Qg3,Bc8,f6,Bh8,Nd3,Nxd3,Qxd3,Bf5,Qf3,Bxe4,Qxe4,Rfe8,Qg4,a5,h4,Qd8,Bg5,h5,Qf4,Re2,Bh6,Rxa2,Bg7,Bxg7,fxg7,Qd7', 'Qh6,f5,Qh8+', 'https://lichess.org/training/41Bak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41BLk', 'Rapid', 'kgn06026', 2075, 'joalrumo', 2097, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,d3,O-O,Ng5,h6,Bxf7+,Rxf7,Nxf7,Kxf7,Qf3,Kg8,Qg3,Kh7,h4,d6,Bg5,Nh5,Qf3,Bxg5,hxg5,Nf4,g3,Ng6,Qh5,Qf8,gxh6,gxh6,Nd2,Nce7,O-O-O,Ng8,Rh2,Be6,Rdh1,a5,Nf3,Kg7,a3,b5,Rg2,b4,Nh4,Nxh4,gxh4+,Kh7', 'Qg6+,Kh8,Qxe6', 'https://lichess.org/training/41BLk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41chS', 'Rapid', 'agiel9999', 1746, 'Murmanskiikot', 1780, 'e4,e5,Qf3,Nf6,Bc4,Nc6,c3,Bc5,d3,O-O,Nh3,d6,O-O,Be6,Bb5,a6,Bxc6,bxc6,a4,Qd7,b4,Ba7,Qg3,Bxh3,gxh3,Kh8,Kh1,Rg8,f4,Nh5,Qh4,Nxf4,Bxf4,exf4,Rxf4', 'g5,Qh5,gxf4', 'https://lichess.org/training/41chS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41Ewn', 'Blitz', 'dpt91', 1848, 'BTiSHK', 1809, 'e3,d5,b3,e5,Bb2,Nf6,d4,exd4,Qxd4,Nc6,Qd1,Bb4+,Nd2,O-O,Nf3,Bg4,Be2,Ne4,O-O,Nxd2,Nxd2,Bxe2,Qxe2,Qg5,Nf3,Qg6,Rad1,Bd6,Rxd5,Rad8,a3,Bxh2+,Nxh2,Rxd5,Nf3,Rfd8,Nh4,Qh5,Nf3,Rd2,Qc4,R2d6,Re1,Rh6,Kf1,Qh1+,Ke2,Qh5,Kf1,Qd5,Qg4,Rg6,Qh4,Qd7,Ng5,h6,Ne4,Qg4,Qh2,Rd5,Ng3,Rd2,Rc1,h5,Nxh5,Rh6,Nf6+,gxf6,Qxh6,Qe2+,Kg1', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/41Ewn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41HKD', 'Classical', 'Chesswin_1', 1652, 'Voyager12', 1631, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Bc5,c3,d6,d4,Bb6,a4,a6,Nbd2,Qe7,d5,Na5,Ba2,Bg4,b4,Bh5,bxa5,Bxa5,Qc2,g5,Ne1,Bb6,Nd3,Qf6,Bb3,Be2,Re1', 'Bxd3,Qxd3,Qxf2+,Kh1,Qxe1+', 'https://lichess.org/training/41HKD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41ibz', 'Bullet', 'esmosu', 1916, 'polytopia', 1986, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,c5,g3,Nc6,Bg2,Be7,O-O,O-O,e5,Nd7,Re1,Qc7,Qe2,b5,Nf1,a5,h4,Ba6,Bf4,b4,N1h2,a4,a3,c4,h5,Rfb8,Ng4,bxa3,bxa3,Rb2,Nf6+,gxf6,exf6,Bd6,Bxd6,Qxd6,Qe3,cxd3,Qg5+,Kf8,Qg7+,Ke8,Ng5,Qf8,cxd3,Qxg7,fxg7,Ke7,Bxd5,Rc8,Bxc6,Nf6,Bxa4,Nxh5,Rac1,Rxc1,g8=Q,Rxe1+,Kg2,Bb7+,Kh3,Nf6,Qxf7+,Kd6,Qxf6', 'Rh1+,Kg4,h5+,Kf4,Rxf2+,Nf3,Rxf3+', 'https://lichess.org/training/41ibz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41IeO', 'Blitz', 'bgoddin', 2048, 'carmonwin', 2055, 'd4,Nf6,Bf4,e6,e3,b6,Nf3,Bb7,c4,Bb4+,Nbd2,c5,a3,Ba5,Be2,Nc6,O-O,Bxd2,Qxd2,cxd4,exd4,d5,Rac1,dxc4,Bxc4,O-O,Rfd1,Ne7,Ne5,Ng6,Nxg6,hxg6,f3,Bd5,Be5,Bxc4,Rxc4,Nd5,Rdc1,Qh4,Bg3,Qh5,b4,Rfd8,Rc6,Rd7,Rc8+,Rxc8,Rxc8+,Kh7,Be5,Qf5,Rh8+,Kxh8', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/41IeO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41Ma9', 'Rapid', 'wienna', 1962, 'gekikara', 1911, 'd4,Nf6,c4,c5,d5,d6,Nc3,g6,e4,Bg7,f3,O-O,Be3,a6,Qd2,Nbd7,h4,h5,Nge2,b6,Bh6,Ne5,Bxg7,Kxg7,Nf4,Rb8,Be2,b5,cxb5,axb5,Nxb5,Ba6,a4,c4,Nc3,Nfd7,g4,Nc5,gxh5,Ncd3+,Nxd3,cxd3,Bd1,Rxb2,Qxb2,d2+,Kxd2', 'Nc4+,Kc2,Nxb2', 'https://lichess.org/training/41Ma9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41mlv', 'Blitz', 'HTWinter', 1557, 'Moydc', 1507, 'c4,g6,Nc3,Bg7,e3,Nc6,d4,e6,a3,d6,Nge2,Nf6,b4,O-O,Bb2,e5,d5,Ne7,Ng3,c6,Bd3,cxd5,cxd5,b6,O-O,Bb7,e4,Bc8,Bb1,Bd7,Re1,Bh6,Qd3,Bf4,Nge2,Bg5,Ng3,Bh4,Nge2,Bg4,h3,Bxh3,gxh3,Nh5,Ng3,Nxg3,fxg3,Bf6,Rf1,Kg7,Kh2,Qd7,Rf3,Rh8,Bc2,h5,Raf1,Ng8,Ne2,Rh6,Qe3,g5,Nc1,g4,Rf5,gxh3,Kxh3,Kf8,Nd3,h4,g4,Rg6,R1f3,Nh6,Rxf6', 'Qxg4+,Kh2,Qg2#', 'https://lichess.org/training/41mlv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41pDV', 'Rapid', 'raysendeleo', 1786, 'ScacchierAzurza', 1955, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bc4,Nc6,c3,Bc5,Be3,Qb6,Qd2,Nf6,f3,d5,exd5,Nxd5,Bxd5,exd5,Na3,O-O,O-O-O,Bxa3,bxa3,Re8,h4,Qc5,Kb2,Nxd4,Bxd4,Qb5+,Ka1,Bd7,Rb1,Qc6,Rb6,Qc7,Qg5,f6,Bxf6,Bc6,Bd4,Re2,Rhb1,h6,Qg4,Rae8,f4,Bb5,Rxh6,Bd3,Qg5,Qd7,Rd6,Bc4,Rb2,Re1+,Rb1,R8e2,Rxe1,Rxa2+,Kb1', 'Qb5+,Kc1,Qb2+,Kd1,Qd2#', 'https://lichess.org/training/41pDV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41S1B', 'Rapid', 'Renaud1993', 1646, 'PPCC1029', 1732, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Bd2,a6', 'Bxc6+,bxc6,Bxb4', 'https://lichess.org/training/41S1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('41XyC', 'Rapid', 'Pie-Oh-My', 1833, 'cold_showers', 1826, 'd4,e6,Nf3,d5,Bf4,c5,c3,Nc6,e3,Nf6,h3,Bd6,Bxd6,Qxd6,Nbd2,O-O,Be2,a6,a3,b5,dxc5,Qxc5,Nb3,Qb6,O-O,Bb7,Nbd4,Nxd4,Nxd4,e5,Nf5,Rad8,Qc2,g6,Nh6+,Kh8,a4,Bc8,axb5,axb5,Ra2,Kg7,Ng4,Nxg4,Bxg4,Bxg4,hxg4,b4,Rfa1', 'b3,Qd2,bxa2', 'https://lichess.org/training/41XyC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('42El5', 'Blitz', 'LokomotivGT', 1651, 'syama', 1673, 'd4,Nf6,c4,d5,Nf3,Bg4,cxd5,Qxd5,Nc3,Nc6,h3,Qd8,hxg4,Nxg4,Bf4,g6,e4,Bg7,e5,O-O,Nd2,Qd7,f3,Qf5,Nd5,Qxf4,Nxf4,Ne3,Qb3,Nxd4,Qc3,Bxe5,Kf2,Nec2,Qc5,Bxf4,Rc1,Be3+,Kg3,Nf5+,Qxf5,gxf5,Rxc2,Kh8,Bd3,Rg8+,Kh2,Rg5,g4,Rd8,Bxf5,Bxd2,Kg3,Rg7,Rxc7,e6,Be4,f5,Bc2,fxg4,fxg4,Rdg8', 'Rxh7+,Rxh7,Rxh7#', 'https://lichess.org/training/42El5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('42f85', 'Classical', 'sanazrasouli', 1681, 'masterdisaster098', 1625, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d6,Be3,Bxe3,fxe3,Bg4,h3,Bh5,Nc3,O-O,d4,Qd7,Be2,Bg6,d5,Ne7,Bd3,c6,dxc6,Qxc6,Bb5,Qc5,Bd3,Qxe3+,Kh2,Nxe4,Bxe4,Bxe4,Nxe4,Qxe4,Qxd6,Ng6,c3,Rad8,Qc7,Rfe8,Rae1,Qf4+,g3,Qa4,Nxe5,Nxe5,Rxe5,Rd2+,Kh1,Rxe5', 'Qxf7+,Kh8,Qf8#', 'https://lichess.org/training/42f85');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('42hS8', 'Rapid', 'michi2002', 1641, 'Rs_1993', 1620, 'e4,c5,Nf3,e6,d4,a6,Nc3,cxd4,Nxd4,Bc5,Be3,Nf6,Bd3,e5,Nf5,Bxe3,Nxe3,Nc6,O-O,h5,Nf5,d5,exd5,Nb4,Nxg7+,Kf8,Ne6+,fxe6,dxe6,Bxe6,Qf3,Ke7', 'Qxb7+,Kf8,Qxb4+', 'https://lichess.org/training/42hS8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('42hzo', 'Rapid', 'CM banane_verte', 2112, 'Nikonfuji', 2339, 'e4,c5,Nc3,e6,g3,Nc6,Bg2,d6,Nge2,Nf6,O-O,g6,d4,Bg7,dxc5,dxc5,Qxd8+,Nxd8,Bf4,Nh5,Bd6,Bf8,Nb5,Bxd6,Nxd6+,Ke7,Rad1,Nc6,f4,e5,c3,Rd8,Nxc8+,Raxc8,Kf2,Nf6,h3,Rxd1,Rxd1,Rd8,Rxd8,Nxd8,Ke3,Nc6,f5,Kd6,g4,c4,Bf1,b5,Ng1,gxf5,gxf5,Nd7,Nf3,Nc5,Ng5,f6,Nxh7,Ke7,h4,Na4,b3,cxb3,axb3,Nxc3,h5,Nd4,h6,Kf7,Bh3,Nd1+,Kd2,Nf2,Bg2,Nxb3+,Kc3,Nd4,Kb4,Ng4,Ng5+,fxg5,h7,Kg7,Bh3,Nf2,f6+,Kxh7,Kc5,Nxh3,Kd6,g4,f7,Kg7,Ke7,Nc6+', 'Ke8,Kf6,f8=Q+', 'https://lichess.org/training/42hzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('42Iqw', 'Classical', 'chsrao', 1906, 'TheWinChesster', 1742, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qe6,Nb5,Bd6,d3,Bd7,Ng5,Qf6,Nxd6+,cxd6,Be2,h6,Ne4,Qe7,O-O,f5,Bh5+,Kd8,Nc3,Nf6,Bf3,Bc6,Bxc6,Nxc6,Be3,f4,Bd2,g5,Ne4,Nd5,c4,Nb6,b4,Nd7,Bc3,Nd4,Bxd4,exd4,c5,dxc5,bxc5,Nxc5,Nxc5,Qxc5,Rc1,Qd5,Qc2,Qd7,Rfe1,Rc8,Qd2,Re8,Rxe8+,Qxe8', 'Qa5+,b6,Qd5+', 'https://lichess.org/training/42Iqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('42lak', 'Rapid', 'ALF65', 1659, 'vignesha', 1637, 'e4,c6,c4,d5,Nc3,dxe4,Nxe4,Bf5,f3,Nf6,d3,e6,Nxf6+,Qxf6,h4,Nd7,f4,Bb4+,Bd2,Bxd2+,Qxd2,O-O-O,Nf3,Nc5,Be2,Nxd3+,Bxd3,Rxd3,Qa5,Qxb2,O-O,Kb8,Ne5,Qd4+,Kh1,Qe4,Nxd3,Qxd3,c5,Be4,Rad1', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/42lak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('42sYE', 'Rapid', 'Amit6178', 1855, 'Lildabbee', 1809, 'e4,c5,Nf3,Nc6,Bc4,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Qf3,Nf6,e5,Qa5+,Nc3,Qxe5+,Be3,O-O,O-O,d5,Bd3,Ng4,Bf4,Qd4,h3,Ne5,Bxe5,Bxe5,Rad1,Qb4,Rfe1,Bd6,Rb1,Rb8,a3,Qa5,b4,Qxa3', 'Rb3,Qxb3,cxb3', 'https://lichess.org/training/42sYE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('42WQO', 'Rapid', 'Badcarma', 1861, 'Yura-Kulish_84', 1847, 'd3,c5,c3,g6,Nf3,Bg7,g3,Nf6,Bg2,O-O,a3,Nc6,Bf4,Qb6,b3,d6,O-O,Be6,Nbd2,Nd7,Rb1,Bxc3,Nc4,Qc7,Bg5,Bf6,Bh6,Bg7,Bxg7,Kxg7,Ng5,b5,Ne3,Rad8,Rc1,Nd4,b4,Bb3,Nc2,Nxc2,Rxc2,Bxc2,Qxc2,Rc8,Rc1,c4,dxc4,Qxc4', 'Qb2+,Nf6,Rxc4', 'https://lichess.org/training/42WQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('43aPs', 'Blitz', 'FM hepyeke', 2390, 'BoraB2005', 1867, 'Nf3,c5,c4,Nc6,Nc3,g6,g3,Bg7,Bg2,e6,O-O,Nge7,e3,O-O,Rb1,b6,a3,a5,Nb5,d5,d3,Ba6,Bd2,Bxb5,cxb5,Nb8,Bc3,Nd7,Bxg7,Kxg7,d4,c4,b3,Rc8,bxc4,dxc4,e4,Nf6,Qe2,Qd7,Rfc1,Rfd8,e5,Nfd5,Rxc4,Rxc4,Qxc4,Rc8,Qd3,Rc3,Qe4,Rxa3,Rc1,Rc3,Rb1,h5,g4,hxg4,Qxg4,Nf5,h4,Nde7,h5,Rc4,hxg6,fxg6,Qg5,Ng8,Bf1,Rc8,Bd3,Qe7,Qg4,Ngh6,Qf4,Rf8,Kg2,Nh4+', 'Qxh4,Qxh4,Nxh4', 'https://lichess.org/training/43aPs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('43Cd1', 'Blitz', 'JamesKrimer', 2058, 'swamishashi', 1880, 'e4,Nc6,d4,e5,Nf3,exd4,Bc4,d6,O-O,Nf6,Nxd4,Nxd4,Qxd4,c5,Qd1,Be7,Nc3,O-O,a4,a6,f3,Nd7,Bf4,Nb6,Ba2,Be6,a5,Nc8,Bd5,Bxd5,Nxd5,b5,axb6,Nxb6,Nxe7+,Qxe7,Bxd6,Qg5,Bxf8,Rxf8,Rxa6,Nc4,Qc1,Ne3,Rf2,h6,Re2,Rd8,Qxe3', 'Rd1+,Kf2,Qh4+,g3,Qxh2#', 'https://lichess.org/training/43Cd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('43iL4', 'Blitz', 'sh_991100', 1742, 'whorya', 1734, 'e4,d6,d4,Nd7,Nc3,c6,Nf3,g6,Be3,Bg7,Bc4,Qc7,O-O,Ngf6,e5,dxe5,dxe5,Nxe5,Nxe5,Qxe5,Re1,Qc7,Qd2,O-O,Rad1,Bg4,f3,Bf5,Bf4,Qb6+,Kh1,Qxb2,Bb3,Rad8,Qxd8,Rxd8,Rxd8+,Bf8,h3,Bxc2,Bxc2,Qxc2,Ne4,Nxe4,Rxe4,Qb1+,Kh2,Kg7,h4,e6,h5,Be7,h6+,Kf6,Be5+,Kf5,g4+,Kg5,Bf4+,Kf6,g5+,Kf5,Be3,Qb2+,Kg3,Bxd8,Rf4+,Ke5,Re4+,Kd5,Rf4,f5,Bxa7,Qxa2', 'Rd4+,Ke5,f4#', 'https://lichess.org/training/43iL4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('43INT', 'Blitz', 'HTC_13', 1628, 'gula78', 1633, 'e4,e6,d4,c5,d5,d6,dxe6,Bxe6,Bb5+,Nc6,Nf3,Qc7,Bf4,a6,Bxc6+,Qxc6,Nc3,b5,O-O,Rd8,Qe2,Be7,Rad1,Bc4,Ne5,dxe5,Rxd8+,Bxd8,Qg4,Bf6,Be3,Bxf1,Kxf1,Ne7,f4,exf4,Bxf4,b4,Ne2,Qxe4,Qg3,O-O,Bd6,Qxc2,Nf4,Qxb2,Nh5,Re8,Bxe7,Rxe7', 'Qb8+,Re8,Qxe8#', 'https://lichess.org/training/43INT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('43kyu', 'Blitz', 'Gruener_Teufel', 1764, 'MG60', 1848, 'c4,e5,Nc3,Bc5,g3,d5,cxd5,Bd4,Bg2,f6,e4,Ne7,Nge2,Bb6,O-O,Bg4,h3,Bh5,g4,Bg6,d4,h5,dxe5,hxg4,exf6,gxf6,hxg4,Nd7,Nf4,Ne5,Ne6,Qd6,Nb5', 'Nf3+,Qxf3,Qh2#', 'https://lichess.org/training/43kyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('43R3Y', 'Rapid', 'merak', 1698, 'emawd', 1775, 'e4,e5,Nf3,Nc6,a3,Nf6,d3,d5,Bg5,dxe4,dxe4,Qxd1+,Kxd1,Bg4,Bxf6,gxf6,Nc3,Bxf3+,gxf3,O-O-O+,Ke1,Nd4,Bd3,Nxf3+,Ke2,Nd4+,Kd2,Bh6+,Kd1,Nxc2,Kxc2,Rhg8,Rhg1,c6,Kb3', 'Rxg1,Rxg1,Rxd3', 'https://lichess.org/training/43R3Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('43RQr', 'Classical', 'tigr-tai', 1873, 'Darshrajsarma', 1871, 'e4,e6,d4,d5,Nc3,Bb4,Bd3,Ne7,Qh5,dxe4,Bxe4,Qxd4,Qb5+,c6,Qd3,Bxc3+,bxc3,Qe5,Be3,f5,O-O-O,Qxe4', 'Qd8+,Kf7,Qxh8', 'https://lichess.org/training/43RQr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('43taF', 'Classical', 'chess2relax', 1799, 'reptest', 1855, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Bg4,Be2,c6,O-O,Nf6,h3,Bxf3,Bxf3,e6,Re1,Be7,d4,O-O,Ne4,Nxe4,Bxe4,Nd7,c4,Nf6,Bc2,Rfd8,Be3,Rd7,Qd3,Rad8,c5,Qc7,Qe2,Nd5,Bd2,Nf6,Be3,g6,Rad1,Nd5,Bd2,Bf6,Bc3,Ne7,d5,Nxd5,Bxf6,Nxf6,Rxd7,Rxd7,Rd1,Rxd1+,Qxd1,Qd7,Qxd7,Nxd7,b4,Kg7,f4,f5,Kf2,e5,fxe5,Nxe5,Ke3,Kf6,Kf4,h6,g4,fxg4,hxg4,g5+,Kg3,b6,cxb6,axb6,a4,c5,bxc5,b5', 'axb5,Nd7,c6', 'https://lichess.org/training/43taF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('443hd', 'Rapid', 'cnv', 1646, 'Nonsio', 1650, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qg5,d4,Qxg2,Rf1,Qxe4+,Qe2,Qxe2+,Kxe2,Bd6,Bf4,Nf6,h3,Bxe5,Bxe5,Bxh3,Rg1,Bg4+,f3,Bf5,Rxg7,Rg8', 'Bxf6,Rxg7,Bxg7', 'https://lichess.org/training/443hd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('446Oe', 'Rapid', 'markovits75', 2078, 'abs61', 1966, 'Nf3,Nf6,d4,g6,Bf4,Bg7,e3,d6,h3,O-O,c4,c5,Nc3,Bf5,Be2,Nc6,O-O,cxd4,exd4,Rc8,Rc1,Re8,Qa4,a6,Rfd1,Qa5,d5,Qxa4,Nxa4,Nb4,a3,Bc2,axb4,Bxa4,Rd3,b5,b3,bxc4,bxc4,Bd7,Ra3,Ra8,Nd4,Ne4,Nc6,Bb2,Rca1,Bxa3,Rxa3,Bxc6,dxc6,Rec8,b5,axb5', 'Rxa8,Rxa8,cxb5', 'https://lichess.org/training/446Oe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('44dxs', 'Blitz', 'IWinYouEvertim', 1814, 'Endorado', 1696, 'e4,c5,Qe2,Nc6,c3,g6,h4,Bg7,h5,Nf6,h6,Bf8,d3,d6,Nh3,Bd7,Na3,Qc7,Nb5,Qb6,a4,O-O-O,Ng5,Ne5,d4,cxd4,cxd4,Bxb5,axb5,Qxd4,Be3,Qb4+,Bd2,Qxb2,Rxa7,Qb1+,Qd1,Qxd1+,Kxd1,Nfg4,Ba5,Nxf2+,Ke1,Nxh1', 'Ra8+,Kd7,Rxd8#', 'https://lichess.org/training/44dxs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('44HWV', 'Rapid', 'CARaghu186', 1898, 'YonchRibak', 1880, 'e4,e5,f4,exf4,Nf3,g5,Bc4,Qe7,O-O,Qc5+,d4,Qxc4,Nxg5,Nc6,c3,d5,exd5,Qxd5,Bxf4,Bd6,Qe2+,Nge7,Bxd6,Qxd6', 'Nxf7,Qe6,Qxe6,Bxe6,Nxh8', 'https://lichess.org/training/44HWV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('44Icz', 'Blitz', 'CM vovaches', 2451, 'Ballet', 2288, 'Nf3,e6,d4,d5,Bg5,Nf6,Nc3,h6,Bxf6,Qxf6,e4,dxe4,Nxe4,Qd8,c3,Be7,Bd3,b6,O-O,Bb7,Qe2,Nd7,Rad1,Nf6,Rfe1,Nd5,g3,O-O,Ne5,Nf6,Nxf6+,Bxf6,Be4,Bxe4,Qxe4,Re8,Nc6,Qd5,b3,a5,c4,Qxe4,Rxe4,Kf8,a4,g6,Rde1,h5,f4,h4,Kg2,hxg3,hxg3,Bg7,Kf3,Bf6,g4,g5,R1e2,Rac8,Rh2,Kg7,Rh5,gxf4,Rxf4,Rh8,Rb5,Rh3+,Ke4,Re8,g5,Be7,Ne5,Rf8,Nc6,Bd6,Rf3,Rxf3,Kxf3,Rh8,c5,bxc5,dxc5,Bh2,Nxa5,Be5,Nc4,Bd4,a5,Rh3+,Ke4,Rh4+,Kf3,e5,c6,e4+,Kg3,Rh8,Rd5,Ba7,b4,e3,b5,Rb8,Re5,f6,gxf6+,Kxf6,Rd5,Rg8+,Kf3,Ke6,Re5+,Kf6,Re4,Rg3+,Ke2,Kf5,Kd3', 'e2+,Kxe2,Kxe4', 'https://lichess.org/training/44Icz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('44MK0', 'Rapid', 'Ahar82', 1733, 'miraj1', 1764, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Bg5,h6,Bh4,g5,Bg3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Bg7,Nge2,Qd7,d5,Bxc3+,bxc3,Ba4,Qd4,O-O-O,O-O,Bb5,Rfe1,h5,h3,h4,Bh2,g4,hxg4,Qxg4,Nf4,e5,Qxe5,Nc4,Qe7,Nd6,e5,Nf5,Qxf7,Rhg8,e6,Rdf8,Qh7,Nd6,e7', 'Rxf4,Qxg8+,Qxg8', 'https://lichess.org/training/44MK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('44oA3', 'Rapid', 'alcarax', 2022, 'serg07_55', 1952, 'b3,e5,Bb2,d6,e3,Nc6,Bb5,Nf6,Nf3,Be7,d4,a6,Bxc6+,bxc6,dxe5,Nd5,O-O,Bg4,h3,Bh5,Nbd2,O-O,Qe1,c5,c4,Nb4,Qb1,Bg6,e4,a5,a3,Nc6,Qc1,Rb8,exd6,cxd6,Re1,Bf6,Bxf6,Qxf6,Rb1,Ne5,Nxe5,Qxe5,Qb2,Qf4,Qc3,Ra8,Qe3,Qe5,f4,Qe8,g4,h6,f5,Bh7,Nf3,Qc6,g5,Rfe8,Nh4,hxg5,Qxg5,Rxe4', 'f6,Bg6,Nxg6,fxg6,Qxg6', 'https://lichess.org/training/44oA3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('457CG', 'Rapid', 'creeperland', 1929, 'Islamrajab', 1916, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Bf5,Nf3,Nc6,c4,Qe4+,Be2,O-O-O,Be3,e5,d5,Bb4+,Bd2,Bxd2+,Nxd2,Qxg2,Bf3,Qh3,dxc6,Rxd2,cxb7+,Kb8,Qxd2,Qxf3,Qd5', 'Be4,Rg1,Bxd5', 'https://lichess.org/training/457CG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('45avO', 'Classical', 'senpai2020', 2281, 'Chigorin_11', 2179, 'd4,e6,e4,d5,e5,c5,Be3,cxd4,Bxd4,Nc6,Nf3,Nxd4,Qxd4,Ne7,Bb5+,Bd7,a4,Nc6,Bxc6,Bxc6,a5,Bb5,Nc3,Ba6,Qa4+,Qd7,Qg4,Rc8,Nd4,h5,Qg3,Rh6,f4,Rg6,Qf3,Bb4,f5,exf5,O-O-O,Bxc3,bxc3,Qa4,g3,Qxa5,Kb2,Rb6+,Nb3,Bc4,Qxf5,Rcc6,Ra1,Qb5,Rxa7,Bxb3', 'Ra8+,Ke7,Qg5+,Rf6,exf6+', 'https://lichess.org/training/45avO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('45ck6', 'Rapid', 'MohammedHassanin30', 2046, 'arlindii', 2033, 'e4,c6,Nf3,d5,Nc3,d4,Ne2,c5,c3,d3,Nf4,c4,Qa4+,Bd7,Qxc4,Nc6,Qxd3,e5,Nd5,Nge7,Nxe7,Bxe7,Qc2,O-O,Bb5,f5,exf5,Bxf5,Qb3+,Kh8,Bxc6,bxc6,Nxe5,Qd6,d4,h6,Nf7+,Rxf7,Qxf7,Rf8,Qc4,Qg6,Be3,Qxg2,O-O-O,Qe4,Qb3,Bg4,Rde1,Bf3,Rhg1,Bd6,Bxh6,Bf4+,Bxf4,Qxf4+,Kb1,Qxh2,Qc2,Rb8,Qg6,Qc7,Re8+,Rxe8,Qxe8+,Kh7,Qe5,Qf7,Rg3,Bh5,Rh3', 'Qg6+,Kc1,Qg1+', 'https://lichess.org/training/45ck6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('45fRM', 'Rapid', 'quimcoll', 1638, 'Ala20', 1673, 'd4,d5,c4,c6,e3,Nf6,Nc3,Ne4,Bd3,Bf5,Nxe4,dxe4,Bc2,e6,Ne2,Bb4+,Bd2,Qa5,Nc3,Bxc3,Bxc3,Qd8,Bb4,a5,Ba3,b5,cxb5,cxb5,b3,b4,Bb2,O-O,a3,Nc6,O-O,Re8,f3,exf3,Qxf3,Bxc2,Qxc6,Bxb3,Qf3,f6,axb4,axb4,Rxa8,Qxa8,Qxa8,Rxa8,Rb1,Bc2,Rc1,b3,Kf2,Kf7,g4,h6,Ke2,Rc8,Kd2,Ke8,e4,Kd7,d5,Bxe4', 'dxe6+,Kxe6,Rxc8', 'https://lichess.org/training/45fRM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('45HK7', 'Blitz', 'waldtiere', 1666, 'JGMarikio', 1695, 'e4,e5,Nf3,Nc6,Bc4,Be7,d3,Nf6,O-O,O-O,c3,d5,exd5,Nxd5,b4,Nb6,Bb3,a6,a4,Bf6,Bd2,Re8,Bc2,Bg4,Be3,Ne7,d4,Ng6,Bxg6,fxg6,Qb3+,Kh8,dxe5,Bxe5,Nxe5,Rxe5,Bd4,Qd5,Qb2,Rg5,Bxg7+', 'Kxg7,c4+,Qe5,Qxe5+,Rxe5', 'https://lichess.org/training/45HK7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('45HnC', 'Rapid', 'r0302470', 2197, 'relampago11', 2170, 'c4,e6,Nc3,d5,cxd5,exd5,d4,c5,Nf3,Nc6,e3,Nf6,Bb5,cxd4,Nxd4,Bd7,O-O,Bd6,a3,O-O,b4,Re8,Bb2,Bxh2+', 'Kxh2,Ng4+,Kg1', 'https://lichess.org/training/45HnC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('45nXR', 'Rapid', 'muchchess01', 1765, 'chestarg', 1764, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,d6,h3,O-O,d3,h6,O-O,a5,a3,Be6,Be3,Bxe3,fxe3,Bxc4,dxc4,Nbd7,Nd5,c6,Nxf6+,Nxf6,Nh4,Nxe4,Qg4,Nf6,Qg3,Ne4,Qg4,Nf6,Qg3,Kh7,Nf5,g6,Nh4,Ne4,Qg4,Nf6,Qg3,g5,Nf3,Qb6', 'Nxg5+,hxg5,Rxf6', 'https://lichess.org/training/45nXR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('45saE', 'Blitz', 'AR13L', 2111, 'peter__svidler', 2028, 'e4,c5,Nf3,d6,Nc3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Qd2,Nf6,f3,Bd7,O-O-O,a6,g4,b5,h4,b4,Nce2,Qa5,Kb1,Nxd4,Nxd4,Be6,Nxe6,fxe6,Bc4,d5,exd5,Rd8,Qe2,Nxd5,Bd2,Nc3+,bxc3,bxc3,Bc1,Rb8+,Bb3,O-O,Qxe6+,Kh8,h5,Rf6,Qe4,Rfb6,hxg6,Rxb3+,cxb3,Rxb3+,axb3,c2+,Kxc2,Qc3+,Kb1,Qa1+,Kc2', 'Qc3+,Kb1,Qxb3+,Bb2,Qxb2#', 'https://lichess.org/training/45saE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('45San', 'Bullet', 'SelfishGene', 1829, 'lliill12', 1926, 'd4,c5,d5,e6,e4,a6,a4,d6,Nc3,e5,g3,Nd7,Bg2,Be7,Nge2,Ngf6,O-O,h5,Bg5,h4,Bxh4,Rxh4,gxh4,Ng4,Ng3,Ngf6,Nf5,Kf8,Qf3,Nb6,Qg3,g6,Ne3,Bd7,a5,Nc8,Qg5,Kg7,Nf5+,Bxf5,exf5,Nh5,Qg4,Nf4,fxg6,fxg6,Be4,Bxh4,Kh1,Ne7,Qxh4,Qf8,Rg1,Qf7,Rg3,Rh8,Qg5,Rh5,Qg4,Qf6,Rag1,Rh4,Qd7,Rh6,Qxb7', 'Rxh2+,Kxh2,Qh4+,Rh3,Qxh3#', 'https://lichess.org/training/45San');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('45UQd', 'Rapid', 'lhiza', 1853, 'UnknownUser24', 1900, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,Ng5,O-O,h4,Nd4,d3,c6,Be3,d5,Bb3,h6,a3,Nxb3,cxb3,hxg5,hxg5,Ng4,Qe2,Bxe3,fxe3,Qxg5,O-O-O,Qxe3+,Rd2,Qxe2,Rxe2,d4,Na4,Ne3,g3,Bg4,Reh2,f6,Nc5,b6,Nb7,Rab8,Nd6,b5', 'Rh8#', 'https://lichess.org/training/45UQd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('45uwj', 'Bullet', 'nazarrius', 2247, 'mind200020', 2207, 'd4,Nf6,Nf3,e6,Bf4,b6,e3,Bb7,Be2,d5,c3,Be7,O-O,Nbd7,Nbd2,c5,Ne5,O-O,Ndf3,Nxe5,Nxe5,Nd7,Bd3,Nxe5,dxe5,g6,Qg4,Qd7,Bh6,Rfd8,f4,Bf8,Bxf8,Kxf8,h4,Qe7,h5,Kg7,f5,exf5,Bxf5,Qxe5,hxg6,hxg6,Rf3,Rh8,Raf1,d4,Rf4,Qxe3+,R1f2,Raf8,Bxg6,fxg6,Qd7+,Kh6', 'Rh4+,Kg5,Qg4#', 'https://lichess.org/training/45uwj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('462Gv', 'Rapid', 'naavyap', 1832, 'RapidMagnus', 1744, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,d6,h3,Nf6,Be3,Bb6,O-O,O-O,Nh2,Bxe3,fxe3,Be6,Bb3,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,e4,Qe6,Ng4,f5,exf5,Rxf5,Rxf5,Qxf5,Qf1,Rf8,Qxf5,Rxf5,Rf1,Rxf1+,Kxf1,Kf7,Ke2,Ke6,Ke3,Nb4,c3,Nxa2,Kd2,b5,Kc2,b4,c4,h5,Ne3,a5,Nd1,a4,b3,axb3+,Kxb3,Nc1+,Kxb4,Nxd3+,Kb5,Nf4,Ne3,Kd6,Nf5+,Kd7,Nxg7,Nxg2,Nxh5,Nf4,Nf6+,Ke7,Nd5+,Kd6,Ne3,Nxh3,c5+,Ke6,Kc6,e4,Kxc7,Ng5,Kb7,Nf7,c6,Nd6+,Kb8,Ke5,c7,Kd4', 'Nf5+,Nxf5,c8=Q', 'https://lichess.org/training/462Gv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('466e7', 'Rapid', 'ysfkula', 2188, 'yakodir', 2278, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,dxe5,fxe5,Nc6,Be3,Bf5,Nc3,e6,Nf3,Bg6,Bd3,Bh5,O-O,Nxd4,Bxd4,Bxf3,Qxf3,Qxd4+,Kh1,O-O-O,Rad1,Qxe5,Be4,c6,Bxc6,bxc6,Qxc6+,Qc7,Qxc7+,Kxc7,Nb5+,Kc8,Nxa7+,Kc7,Rxd8,Kxd8,Rxf7,Nxc4,b3,Ne5,Rb7,g6,b4,h5,a4,Rg8,a5,Ke8,a6,Rg7,Rxg7,Bxg7,Nc8,Nc6,b5,Kd7,Nb6+,Kc7,Na4,Na5,b6+,Kc6', 'a7,Kb7,Nc5+', 'https://lichess.org/training/466e7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('469p4', 'Rapid', 'meydivandi62', 1715, 'TrabantA', 1706, 'd4,Nf6,c3,e5,e3,e4,Nd2,d5,Be2,Bd6,Nb3,Ng4,h3,Qh4,Bxg4,Bxg4,Ne2,Nd7,Rf1,Bh5,Kd2,Nb6,Qe1,Nc4+,Kc2,O-O,Bd2,a5,Rc1,a4,Nc5,a3,b3,Nb2,Rb1,Nd3,Qd1,Nxf2,Qe1,Bxe2,Qxe2,Nd3,Nxd3,exd3+,Qxd3,Qe7,Rbe1,b6,Rf5,Ra5,b4,Raa8,Rxd5,Qe6,e4,c6,e5,Qxd5,c4,Qxg2,exd6,c5,Re2,Qc6,b5,Qxd6,d5,Qf6,Bc3,Qd6,Rg2,g6,h4,h5,Qe3,Kh7,Bd2,Qf6', 'Qh6+,Kg8,Bc3,Qxc3+,Kxc3', 'https://lichess.org/training/469p4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46AJc', 'Blitz', 'elro07', 2186, 'CM colinov', 2265, 'd4,Nf6,Nf3,e6,c4,Bb4+,Bd2,Qe7,a3,Bxd2+,Qxd2,d6,Nc3,O-O,e3,Nbd7,Bd3,b6,O-O,e5,e4,Bb7,Nd5,Qd8,Rad1,Nh5,g3,Nhf6,Bc2,Nxd5,exd5,Re8,Ng5,h6,Bh7+,Kf8,Ne4,Nf6,Bf5,exd4,Qxd4,Re5,g4,Qe7,Rde1,Re8,Nxf6,Qxf6,Rxe5,Rxe5,Qd2,h5,Re1,hxg4,Rxe5,Qxe5,Bxg4,Ba6,b3,b5,Qe2,Qxe2,Bxe2,bxc4,Bxc4,Bxc4,bxc4,Ke7,f4,Kf6,Kf2,Kf5,Kf3,f6,h3,a6,a4,Kg6,Kg4,f5+,Kf3,Kh5,Kg3,a5,Kg2,Kh4,Kh2,g6', 'Kg2,Kh5,Kg3,Kh6,Kh4', 'https://lichess.org/training/46AJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46CTR', 'Blitz', 'forpanzer', 1698, 'warrior-007', 1707, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,Be3,Be7,Nd5,Nbd7,f3,b5,O-O,Bxd5,exd5,Nb6,Bxb6,Qxb6+,Kh1,O-O,Qd2,Rac8,Rac1,Nd7,Na5,h6,Nc6,Bg5,f4,exf4,Qd3,Rfe8,Bg4,Rc7,Qf5,g6,Qd3,Ne5,Nxe5,dxe5,d6,e4,d7,Rd8,Qd5,e3,h3,Kg7,g3,h5,gxf4,hxg4,fxg5,Rcxd7,Qe5+,Kh7,hxg4,e2,Rf3,Qd6', 'Rh3+,Kg8,Rh8#', 'https://lichess.org/training/46CTR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46Dzf', 'Rapid', 'Jupp3', 1794, 'chatlanin', 1742, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,e6,e4,Bb4+,Bd2,Bxd2+,Nbxd2,Nf4,g3,Ng6,e5,O-O,Bd3,Nc6,Nb3,b6,Rc1,Bb7,Be4,Qd7,O-O,Rab8,Ng5,h6,Nh3,Ba8,Re1,Rfd8,Rc4,Na5,Nxa5,bxa5,Bxa8,Rxa8,Qf3,Qb5,Rxc7,Rf8,Rec1,a6,Rb7,Qd5,Qa3,Qxd4,Rcc7,Qd1+,Kg2,Nxe5,Qe7,Qf3+,Kg1,g5,Nxg5,hxg5', 'Qxg5+,Kh7,Qxe5', 'https://lichess.org/training/46Dzf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46F0C', 'Rapid', 'Bublixtix', 1947, 'duannishenmi', 1972, 'd4,e6,e4,Nf6,Nc3,Nc6,Nf3,Be7,Bb5,a6,Ba4,b5,Bb3,O-O,O-O,b4,d5,bxc3,dxc6,Nxe4,Ne5,dxc6,Nxc6,Qxd1', 'Nxe7+,Kh8,Rxd1', 'https://lichess.org/training/46F0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46fjs', 'Rapid', 'RiceMuncher', 1869, 'simoneorsini', 1842, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Ne5,Bd3,Nxd3+,cxd3,d5,O-O,Be7,Nc3,dxe4,dxe4,Nf6,Qa4+,Bd7,Qb3,Bc5,Nf5,Bxf5,exf5,O-O,Qxb7,Qd4,Be3,Qd6,Rad1,Qe5,Bxc5,Qxc5,Rfe1,Qxf5,Qxc7,Rac8,Qxa7,Ng4,h3,Ne5,Qa5', 'Nf3+,gxf3,Qxa5', 'https://lichess.org/training/46fjs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46g9a', 'Rapid', 'luibiten', 1648, 'obiewan47', 1616, 'e4,c5,Nf3,d6,Bc4,g6,Nc3,Bg7,O-O,Nf6,Re1,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Kg2,Nc6,Ne2', 'Bxf3+,Kxf3,Ne5+,Kg2,Nxc4', 'https://lichess.org/training/46g9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46hmt', 'Classical', 'donthuvenkateswarlu', 1692, 'MichelBogaert', 1700, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Nf3,Nge7,Bg5,Qb6,a4,a6,Bxc6,Bxc6,b3,h6,Bxe7,Bxe7,O-O,O-O,a5,Qa7,Nbd2,cxd4,cxd4,f6,Re1,fxe5,Nxe5,Bf6,Nxc6,bxc6,Rxe6,Qxd4,Rxc6,Bg5,Nf3,Qxd1+,Rxd1,Rfb8,Nxg5,hxg5,Rc3,Rb5,b4,Rxb4,h3,Rb5,Rcd3,Rd8,f3,Rxa5,Kf2,Kf7,Ke3,Rb5,f4,gxf4+,Kxf4,a5,Ke5,a4,Rxd5,a3', 'Rf1+,Kg6,Rxb5', 'https://lichess.org/training/46hmt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46kH8', 'Rapid', 'FrenchVanilla86', 1831, 'osama-elsabaa', 1796, 'd4,Nf6,Bf4,g6,c3,Bg7,Qd2,O-O,Bh6,d6,Bxg7,Kxg7,Nf3,Bg4,h3,Bxf3,gxf3,Nc6,e4,Re8,Bb5,a6,Bd3,e5,d5,Ne7,f4,c6,fxe5,dxe5,c4,cxd5,cxd5,Qb6,b3,Rac8,Bc4,Nxe4,Qe2,Qd4,O-O,Qxa1,Qxe4,Qd4,Qxd4,exd4,d6,Rxc4,bxc4,Nc6,c5,Kf6,Nd2,Ke5', 'Re1+,Kd5,Rxe8', 'https://lichess.org/training/46kH8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46myo', 'Blitz', 'InnateDistress', 1597, 'rodolfoarana', 1582, 'e4,c5,Nf3,d6,c3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,d3,e5,Bg5,Be7,h3,h6,Bh4,O-O,a3,a5,Nbd2,b5,c4,Qb6,a4,bxc4,Nxc4,Qb4+,Nfd2,Nb6,O-O,Nxc4,Nxc4,Qb8,b3,Ra7,Bxf6,Bxf6,Qh5,Rd8,f4,Qxb3,fxe5,dxe5,Nxe5,Bxe5,Qxe5,Rxd3,Rab1,Qc2,Qf5,Rd2', 'Rb8+,Rd8,Rxd8#', 'https://lichess.org/training/46myo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46N0a', 'Blitz', 'Bodhisattva1980', 1738, 'Ponyash', 1732, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,Na4,Be7,Ng5,d5,Bb5,Nxe4,Bxc6+,bxc6,Nxe4,dxe4,Qe2,O-O,Qxe4,Bf6,O-O,Bb7,Nc5,Rb8,Nxb7,Rxb7,Qxc6,Rb6,Qe4,Bh4,g3,Qg5,d4,Qh5,dxe5,Rg6,Bf4,Bg5,Kh1,f5,Qd5+,Kh8,Rg1,Rh6,h4,Bxh4,gxh4', 'Qxh4+,Kg2,Qh3#', 'https://lichess.org/training/46N0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46pES', 'Rapid', 'kourosh1390', 2014, 'TheFastestUser', 2100, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,e5,Qa5+,Nc3,Qxe5+,Be2,Ba6,O-O,Bxe2,Nxe2,g6,Ng3,Bg7,Re1,Qc5,Be3,Qd5,Bd4,e6,Bxf6,Bxf6,Ne4,Bxb2,Rb1,Qxd1,Rexd1,Be5,Rb7,d5,Nc5,Bd6,Ne4,Bxh2+,Kxh2,dxe4,Rdd7,O-O,Rxa7,Rxa7,Rxa7,f5,a4,Rf7', 'Rxf7,Kxf7,a5', 'https://lichess.org/training/46pES');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46pqU', 'Classical', 'dandelicious', 1628, 'Goaty_pigface', 1657, 'e4,e5,Nc3,Nf6,d4,Bb4,Ne2,Nxe4,a3,Ba5,b4,Nxc3,Nxc3,Bb6,dxe5,O-O,Nd5,Nc6,Nxb6,axb6,Bf4,Nxb4', 'axb4,Rxa1,Qxa1', 'https://lichess.org/training/46pqU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('46r1A', 'Rapid', 'R221291', 1611, 'michaelmango', 1608, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Nc3,b6,Bc4,Bc5,Qg3,Nd4,Bd3,Qe7,Nge2,Nxe2,Nxe2,Nxe4,Bxe4,Qxe4,Qxg7,Bd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/46r1A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4705K', 'Rapid', 'Jipsketeke', 1707, 'randomalbumtitle', 1676, 'e4,e5,f4,exf4,Nf3,Qe7,Bc4,Qxe4+,Be2,Bc5,Nc3,Qg6,d4,Qxg2,Rf1,Bd6,Ne4,Nf6,Nxf6+,gxf6,Bc4,O-O', 'Rg1,Re8+,Be2', 'https://lichess.org/training/4705K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('470KW', 'Blitz', 'narkohat', 1939, 'Zhoraspec132', 1999, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Nc6,e4,Nf6,e5,Nd7,Nxd5,Qa5+,Nc3,e6,Nf3,Bb4,Bd2,O-O,a3,Be7,Bd3,Qb6,Na4,Qc7,O-O,a6,Rc1,b5,Nc3,Bb7,Ne4,Qb6,Nfg5,h6,Qh5,Qxd4,Nf6+,Nxf6,exf6,Bxf6,Bh7+,Kh8,Bc3,Qd5,Bxf6,gxf6,Nxf7+,Kxh7', 'Qxh6+,Kg8,Qg6#', 'https://lichess.org/training/470KW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('471HX', 'Rapid', 'FredHapy', 2105, 'Dikeuss', 1964, 'e4,e6,c4,d5,exd5,exd5,d4,dxc4,Bxc4,Nf6,Be3,Be7,Nf3,O-O,O-O,a6,a4,b6,Nc3,Bb7,Be2,Nd5,Nxd5,Qxd5,Ne1,Bb4', 'Bf3,Qf5,Bxb7', 'https://lichess.org/training/471HX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('471ww', 'Rapid', 'aca021', 1811, 'a_stoykov86', 1825, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,h3,c5,c3,Nc6,Nf3,Be6,Bb5,a6,Bxc6+,bxc6,Nxe5,Qc7,Nf3,Be7,Qe2,O-O,O-O,Nf4,Bxf4,Qxf4,Qe5,Qh6,Nbd2,Rad8,d4,Bd6,Qg5,Bf4,Qxh6,Bxh6,Rad1,cxd4,Nxd4,Bxa2,N2f3,Bc4,Rfe1,c5,Nc6,Rxd1,Rxd1,Re8,Na5,Bb5,c4,Ba4,Ra1,Bd7,Nb7,Re2,Nxc5,Bc6,Rxa6,Be8,Nd3,g6,b4,Rc2,c5,Bb5,Nfe1', 'Bxa6,Nxc2,Bxd3', 'https://lichess.org/training/471ww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('474SA', 'Rapid', 'Szubie', 1697, 'Wind-of-Change', 1713, 'd4,Nf6,c4,e6,Nf3,d5,g3,c5,e3,cxd4,exd4,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,Bg2,a6,O-O,b5,a4,bxc4,Nxc4,dxc4,Ne5,Ra7,Nxc4,Bb7,Bh3,Qd5,Ne3,Qh5,Bg2,Bxg2,Kxg2,Nc6,Rc1,Rc7,g4,Qg5,h3,Qf4,Qd3,Rfc8,Qxa6,Nxd4', 'Qxc8+,Rxc8,Rxc8+,Ne8,Rxe8#', 'https://lichess.org/training/474SA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('475e8', 'Rapid', 'O_Caithain18', 2227, 'grigorich1946', 2217, 'e4,c6,Nf3,d6,d4,g6,Nc3,Bg7,Be3,Bg4,Be2,Nd7,Nd2,Bxe2,Qxe2,Qc7,O-O-O,b5,f4,b4,Ncb1,a5,e5,d5,Nf3,e6,g4,h5,h3,Nb6,Nbd2,a4,f5,gxf5,gxf5,a3,fxe6,fxe6,b3,Ne7,Ng5,Qd7,Qf3,Nf5,Rhf1,Nxe3,Qxe3,Bh6,h4,O-O-O,Qh3,Bxg5,hxg5,Rde8,Rf6,Qe7,Rg1,Nd7,Rh6,c5,Qxh5,Rhg8,g6,cxd4,g7,Qc5,Rg3', 'd3,Rxd3,Qg1+', 'https://lichess.org/training/475e8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('475RN', 'Rapid', 'proton_34', 2124, 'Artem979', 1903, 'c4,Nf6,Nc3,g6,e4,d6,Nf3,Bg7,Be2,O-O,d4,a6,Bg5,c6,Qd2,b5,cxb5,cxb5,a3,Bb7,Bd3,Nbd7,h4,Rc8,Bh6,Nb6,Bxg7,Kxg7,h5,Nxh5,Qg5,e6', 'Rxh5,Qxg5,Rxg5', 'https://lichess.org/training/475RN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47aKT', 'Rapid', 'Ahmedelnahas1980', 1651, 'alyssonluiz', 1641, 'e4,c5,Bc4,d6,d3,e6,h3,Nf6,a3,Be7,Nf3,Bd7,Nc3,a6,Ba2,O-O,g4,Qc7,g5,Ne8,h4,f6,h5,f5,exf5,Rxf5,Be3,Qc6,Ne4,d5,Ng3,Rf8,Ne5,Qb5,g6,Qxb2,gxh7+,Kxh7,Ng6,Rf6,Nxe7,Nc6,Nxc6,Bxc6,Bxc5', 'Qc3+,Kf1,Qxc5', 'https://lichess.org/training/47aKT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47bgd', 'Blitz', 'RenisCerga', 2121, 'BP9Sharma', 2083, 'd4,Nf6,Nf3,d5,c4,c6,Nc3,e6,Bg5,Be7,e3,Nbd7,cxd5,exd5,Bd3,h6,Bh4,O-O,O-O,Re8,Qc2,Nf8,Rab1,Bg4,Ne5,Bd7,b4,b5,Nxd7,Qxd7,a4,a6,a5,Qg4,Bg3,Bd8,Ne2,Ne4,f3,Nxg3,fxg4,Nxf1,Rxf1,Rxe3,Qxc6,Rxd3,Qxa8,Bf6,Rc1,Bg5,Rc8', 'Be3+,Kh1,Rd1+,Ng1,Rxg1#', 'https://lichess.org/training/47bgd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47blh', 'Rapid', 'oboe25', 1893, 'haghhagh', 1918, 'd4,f5,Nc3,Nf6,f3,e6,e4,fxe4,fxe4,Be7,Bg5,O-O,Nf3,h6,Bxf6,Bxf6,e5,Bh4+,g3,Bg5,Bd3,Nc6,a3,b6,Qe2,Bb7,h4,Rb8,hxg5,Rxf3,Qxf3,Qxg5,Ne4,Qe7,O-O-O,Nxd4,Qg4,Nf5,Nf6+,Kf7,Bxf5,exf5,Qh5+,Kf8,Nd5,Qxe5,Rhf1,Qxg3,Rxf5+,Kg8,Ne7+,Kh7,Rdf1,Qe3+,Kb1,Qxe7,Qg6+,Kg8,Rf7,Qe5,Rxd7,Be4,Qf7+,Kh8,Rg1,Rg8,Rxc7,Qh2,Rxg7', 'Qh1+,Ka2,Bd5+,b3,Bxf7', 'https://lichess.org/training/47blh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47FGn', 'Blitz', 'Prashant124', 1743, 'einem83', 1758, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,h6,O-O,Bc5,d4,exd4,e5,dxc3,exf6,Qxf6,Re1+,Be7,bxc3,Qxc3,Bxf7+,Kxf7,Qd5+,Ke8,Bf4,d6,Qh5+,Kd8,Bg5,Bxg5,Nxg5,hxg5', 'Qxh8+,Kd7,Qe8#', 'https://lichess.org/training/47FGn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47LfZ', 'Rapid', 'kostassss', 2028, 'Rupfer', 1965, 'c4,Nf6,Nc3,e6,e4,Bb4,Qc2,Bxc3,bxc3,d6,d4,b6,Bg5,Nbd7,Bd3,h6,Bh4,Bb7,Nf3,O-O,O-O,c5,e5,dxe5,dxe5,g5,exf6,gxh4,Be4,Bxe4,Qxe4,Qxf6,Rad1,Rfd8', 'Rxd7,Rxd7,Qxa8+', 'https://lichess.org/training/47LfZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47lrU', 'Rapid', 'feeper', 1957, 'bji', 1925, 'e4,g6,d4,Bg7,Be3,e6,f4,Ne7,Nf3,b6,Bd3,Bb7,O-O,Na6,c3,d5,e5,Nf5,Bf2,Qd7,Qe2,Nb8,Nbd2,Nc6,b4,a6,a4,Na7,Bxa6,Bxa6,Qxa6,O-O,Qd3,Nc6,g4,Nh6,h3,f5,exf6,Bh8,g5,Nf5,Ne5,Nxe5,fxe5,c5,b5,cxd4,Bxd4,Rac8,Rxf5,exf5,Bxb6,f4,Bd4,Qe6,Qf3,Rfd8,Nb3,Rc4,Kh2,Rdc8,Qxf4,Rxc3,Bxc3,Rxc3,Nd4', 'Qxh3+,Kg1,Rg3+,Qxg3,Qxg3+', 'https://lichess.org/training/47lrU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47NKg', 'Classical', 'gokoby', 1655, 'BeaverBattle', 1665, 'e4,c5,Nf3,Nc6,Nc3,d6,a3,Nf6,b4,b6,Rb1,e5,Bc4,Be6,Bxe6,fxe6,Bb2,Be7,Ng5,Qd7,O-O,h6,Nh3,O-O,f4,exf4,Nxf4,e5,Nh5,Nxh5,Qxh5,cxb4,Nd5,bxa3,Nxe7+,Qxe7,Bxa3,Nd4,c3,Ne6,Rxf8+,Rxf8,Rb5,Nf4,Qg4,h5,Qd1,Qg5,g3,Nh3+,Kg2,Nf4+,Kg1,h4,Bxd6,Rd8,Rxe5,Qg6,Be7,Re8,Rg5', 'Nh3+,Kg2,Nxg5', 'https://lichess.org/training/47NKg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47oBV', 'Rapid', 'hansi_okdk', 1902, 'Jfasf64', 2119, 'e3,Nf6,c4,g6,Nc3,Bg7,d4,O-O,Nf3,d6,Be2,c6,O-O,Nbd7,b4,e5,Bb2,e4,Nd2,Qe7,Qc2,Re8,d5,a5,bxa5,Rxa5,a4,Nc5,f3,cxd5,cxd5,Bf5,Ncxe4,Ncxe4,Nxe4,Nxe4,Bxg7,Kxg7', 'fxe4,Rc5,Qb2+,Kh6,exf5', 'https://lichess.org/training/47oBV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47pbv', 'Blitz', 'peho1231', 2019, 'dimych', 2013, 'd4,c6,e4,d5,exd5,cxd5,Bd3,Nc6,Ne2,Bg4,f3,Bh5,c3,e6,O-O,Nf6,b4,Be7,Nd2,O-O,Nb3,a6,a4,Rc8,Bf4,Bd6,Qd2,Bg6,Nc5,Bxd3,Qxd3,Bxf4,Nxf4,Qc7,Nh3,a5,b5,Ne7,c4,b6,Na6,Qxc4,Qe3,Nf5,Qf4,Qxd4+,Kh1,Qxf4,Nxf4,h6,g4,Ne3,Rfc1,Nc4,Kg2,Nd7,Kf2,g5,Nh5,Kh7,h4,Kg6,f4,gxh4,Kf3,f5,Rh1,fxg4+,Kxg4,Ne3+,Kf3,Nc2,Rag1+,Kxh5', 'Rxh4+,Kxh4,Rh1#', 'https://lichess.org/training/47pbv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47STd', 'Rapid', 'VR1594', 1660, 'kererion', 1678, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Nd4,Bc4,Nxf3+,Qxf3,a6,Bg5,b5,Bd5,c6,Bb3,Be7,Nd2,O-O,h4,Bb7,h5,h6,Be3,d5,Nf1,dxe4,dxe4,c5,Rd1,Qa5+,c3,Nxe4,Bc2,Nxc3,Qxb7,Nxd1+,Bd2,Qxa2,Bxd1,Qxb2,Qxe7,Rad8,Rh3,c4,Rc3', 'Rxd2,Nxd2,Qxc3', 'https://lichess.org/training/47STd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47sue', 'Rapid', 'DemetriousJohnson', 1753, 'eomanx5', 1757, 'e4,e6,Nf3,d6,d4,Ne7,Bb5+,c6,Bd3,Ng6,e5,Nh4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/47sue');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47T2T', 'Rapid', 'Ded_Viktor_Karasuk', 1943, 'ipru4', 1978, 'd4,d5,c4,dxc4,Nc3,e5,d5,Bb4,Qa4+,Bd7,Qxb4,Nf6,e4,a5,Qa3,b5,Qc5,b4,Nce2,Nxe4,Qxc4,Nf6,Bg5,O-O,Bxf6,Qxf6,Qxc7,e4,Qc2,Bb5,Ng3,Bxf1,Nxf1,Nd7,Ne3,Rac8,Qd2,Ne5,Ne2', 'Nd3+,Qxd3,exd3', 'https://lichess.org/training/47T2T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47wHM', 'Blitz', 'kstokkel', 1633, 'soccerbeast18', 1605, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,Bg5,Be7,e3,O-O,cxd5,cxd5,Bd3,h6,Bh4,Nc6,a3,Qc7,Bg3,Bd6,Nb5,Qa5+,b4,Bxb4+,axb4,Qxb4+,Nd2,Ne4,Rb1,Qxd2+,Qxd2,Nxd2,Kxd2,Bd7,Bd6,Rfd8,e4,dxe4,Bxe4,Na5,Rhc1,Bxb5,Rxb5,Rxd6,Rxa5,Rxd4+,Ke3,Rad8,Rxa7,f5,Bxb7,Rd3+,Ke2,Rd2+,Ke3,R8d3+,Kf4,Rd4+,Ke5,Rd7,Ra8+,Kh7,Bc8,Re2+,Kf4,Rd4+,Kf3,Red2,Ra3,g5,Bxe6,g4+,Ke3', 'f4#', 'https://lichess.org/training/47wHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47YZ2', 'Rapid', 'BinSchach', 1828, 'Tafongjoel', 1808, 'e4,e5,Nf3,Nc6,g3,Nf6,d3,Be7,Bg2,O-O,O-O,d6,Nh4,Re8,f4,Bg4,Qd2,Bd7,fxe5,dxe5,Nf5,Nd4,Qg5,Bf8', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/47YZ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('47Zlu', 'Blitz', 'kiple', 1743, 'andreataranto', 1732, 'e4,d6,d4,g6,f4,Bg7,Nf3,Nf6,Nc3,O-O,Bc4,Nbd7,O-O,c5,e5,dxe5,fxe5,Ne8,d5,Nxe5,Nxe5,Bxe5,Qf3,Qd6,h3,Nf6,Bh6,Rd8,Ne4,Nxe4', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/47Zlu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('482r8', 'Rapid', 'rey73', 1864, 'TAVO911', 1981, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Ngf3,c5,c3,Nc6,Bd3,Qb6,Qb3,c4,Qxb6,axb6,Bc2,b5,O-O,b4,Bd1,b3,a3,Nb6,Re1,Be7,Nf1,Na4,Rb1,f6,Bf4,h5,h3,g5,exf6,gxf4,fxe7,Nxe7,Ng5,Ra6,Bf3,Kf8,Re2,Nf5,Rbe1,Rh6,Bxd5,Nxb2,Bxe6,Bxe6,Nxe6+,Kf7,Nxf4,Nd3,Nxd3,cxd3,Re5,Kg6,Re6+,Kg5,Rxh6,Kxh6,Nd2,Rxa3,Rb1,b2,Rxb2,Rxc3,Rb3,Rxb3,Nxb3,Nxd4', 'Nxd4,d2,Nf5+,Kg5,Ne3,d1=Q+,Nxd1', 'https://lichess.org/training/482r8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('483PM', 'Rapid', 'Mamrez33', 1829, 'Kahna', 1817, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,a6,e3,b5,c5,c6,Bd3,h6,Bh4,g5,Bg3,Nbd7,O-O,Nh7,Ne5,Nxe5,Bxe5,f6,Qh5+,Kd7,Bg3,Nf8,a4,b4,Ne2,a5,e4,Ba6,Bxa6,Rxa6,exd5,cxd5,f4,Qe8,Qf3,f5,fxg5,hxg5,Qd3,Rc6,Be5,Rh4,Qb5,Qa8,Qd3,Ng6,Bg3,Rh7,Rae1,Qh8,Qb5,Qa8,Nc1,f4,Bf2,Bf6,Nb3,Ne7,Nxa5,Rh8,Nxc6,Nxc6,Re2,Rb8,Qd3,Rh8,b3,Rh6,Rfe1,Be7,Qb5,Bf8,Ra1,Bg7,Be1', 'Bxd4+,Bf2,Bxa1', 'https://lichess.org/training/483PM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4854Q', 'Rapid', 'Koenigbube', 1924, 'RenaChess', 2042, 'd4,d5,Nc3,Nf6,Bf4,e6,Nb5,Na6,e3,c6,Nc3,Nc7,Bxc7,Qxc7,Nf3,Bd6,Bd3,e5,dxe5,Bxe5,Nxe5,Qxe5,h3,O-O,O-O,Qg5,Kh1,Qh4,Qf3,Be6,Ne2,Rfe8,Nf4,Ne4,Rad1,h6,g3,Qf6,Kg2,Ng5,Qh5,Rad8,h4,Ne4,Nxe6,Rxe6,Bxe4,Rxe4,c3,Rde8,Qf3,Qg6,Rd4,Rxd4,cxd4,Re4,Kh2,h5,b4,Re6,Qf4,Qf6,Qxf6,Rxf6,Kg2,g6,Rc1,Re6,a4,b6,Kf3,Kf8,Ke2,a6,f3,Ke8,Kd3,Kd7,Re1,f5,Rc1,Re8,a5,bxa5,bxa5,Rb8,Kc3,Rb5,Ra1,Kd6,Kc2,c5,dxc5+,Rxc5+,Kd3,Kc6,Kd2,Kb5,Kd3,Rc4,Kd2,Rb4,Kd3,Kc5,Rc1+,Kb5,Ra1,Ra4', 'Rxa4,Kxa4,Kd4,Kxa5,Kc5,Ka4,Kxd5,Kb4,e4,a5,e5,a4,e6,a3,e7,a2,e8=Q', 'https://lichess.org/training/4854Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4868S', 'Blitz', 'jaque2020', 2263, 'JanOffbeat', 2277, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bxb5,Qxd5,Bxc6+,Qxc6,O-O,Bb7,f3,h6,Nh3,Bc5+,Kh1,g5,Qe2,O-O-O,d3,Nd5,Nc3,Nf4,Nxf4,gxf4,Qxe5,Bd4,Qf5+,Kb8,Bxf4,Rhg8,Ne4,Rg6,c3,Bb6,d4,Rdg8,Bg3,h5,Qxh5,Qe6,Rfe1,f5,Nc5,Qf6,Nxb7,Rh8,Be5,Qxe5,dxe5,Rxh5,Nd8,Bf2,Re2', 'Rxh2+,Kxh2,Rh6#', 'https://lichess.org/training/4868S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4876r', 'Classical', 'mastroandrea', 1661, 'the_killer_rook', 1845, 'e4,e5,Nf3,Nc6,d4,d5,Bb5,a6,Bxc6+,bxc6,exd5,cxd5,dxe5,Bg4,Nc3,Bb4,Bd2,c6,Na4,Bxd2+,Qxd2,f6,Nd4,fxe5,Nxc6,Qd6,f3,Qxc6,Qc3,Bd7,Qxe5+,Ne7,Nc3,Rf8,Rd1,Rf5,Qxg7,Qd6,Qh8+,Rf8,Qxh7,O-O-O,O-O,d4,Ne4,Qe5,Rfe1,Bf5,Ng3', 'Qxe1+,Rxe1,Bxh7', 'https://lichess.org/training/4876r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('48atM', 'Rapid', 'Schnabelwolke', 2167, 'Nils_FF', 2182, 'e4,d6,d4,Nf6,Nc3,g6,Bg5,Bg7,Qd2,h6,Bf4,g5,Bg3,Nh5,O-O-O,Nc6,Qe3,Nxg3,hxg3,e5,dxe5,Nxe5,f4,Ng4,Qe2,c6,Nf3,b6,Nd4,Bxd4,Rxd4,Qf6,Qd2,Ke7,Be2,Rg8,Bxg4,Bxg4,e5,dxe5,fxe5,Qf5,Rf4,gxf4', 'Qd6+,Ke8,Qxc6+,Qd7,Qxa8+', 'https://lichess.org/training/48atM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('48aY6', 'Rapid', 'Wololol', 2163, 'GuerreroH2', 2178, 'd4,c6,Bf4,d5,e3,Nf6,Bd3,Bg4,f3,Bh5,g4,Bg6,h4,e6,h5,Bxd3,Qxd3,Bd6,Ne2,Na6,c3,Qc8,g5,Bxf4,Nxf4,Nd7,g6,hxg6,Nd2,Nf6,O-O-O,gxh5,Rdg1,g6,Nxg6,Rg8,Nf4,Ke7,e4,Rxg1+,Rxg1,Qh8,c4,Rg8,Rh1,Qh6,Qe3,Qg5,e5,Nd7,cxd5,cxd5,Qa3+,Ke8,Nxh5,Qg2,Rd1,Qe2,Nf6+,Nxf6,exf6,Kd7,Qe7+,Kc6,Qxf7,Rc8,Ne4,dxe4,Qxe6+,Kc7,f7,Kb8+', 'Qxc8+,Kxc8,f8=Q+', 'https://lichess.org/training/48aY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('48D1E', 'Rapid', 'gogich_slip', 1707, 'mattecapa', 1761, 'd4,d5,c4,c6,Nf3,g6,Nc3,Nf6,cxd5,cxd5,g3,Bg7,Bg2,O-O,O-O,Nc6,Ng5,h6,Nh3,e6,Nf4,Nd7,e3,Nb6,Na4,Nc4,b3,Nd6,Nc5,b6,Ncd3,Ba6,Re1,Ne4,Ba3,Re8,Rc1,Qd7,Rc2,Rac8,Qe2,Rc7,Rec1,Rec8,Qd1,Nd6,Bh3,Qd8,Bxe6,Nb5,Bb2,fxe6,Nxe6,Qd7,Nxc7,Rxc7,Nb4', 'Nxb4,Rxc7,Nxc7', 'https://lichess.org/training/48D1E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('48HMn', 'Blitz', 'Hamuood89', 1807, 'Bothox', 1839, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e3,O-O,Be2,d6,Nf3,Nbd7,O-O,Qe8,Bg3,Nh5,Ne4,Nxg3,Nxg3,e5,dxe5,dxe5,Bd3,Nc5,e4,Bg4,h3,Be6,Ng5,Rd8,Nxe6,Qxe6,b4,Nxd3,cxd3,f5,a3,Rd4,Rc1,c6,f3,Rfd8,Rc3,Bh6,Ne2,Be3+,Kh1,R4d7,Qc2,f4,Rd1,g5,Nc1,h5,Nb3,Rh7,Nc5,Qh6,Qb3+,Kh8,Ne6,Rdd7,b5,c5,b6,axb6,Qxb6,c4,Rxc4,Bxb6,Rc8+,Bd8,Nxd8,Kg7,Rdc1,Qf6,Nxb7,Rxb7,Ra8,g4,Rcc8,gxf3,Rg8+,Kh6,gxf3,Qf7', 'Ra6+,Rb6,Rxb6+,Qg6,Rbxg6#', 'https://lichess.org/training/48HMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('48iwG', 'Rapid', 'Alireza3959', 2011, 'Magnys-kiborg', 1997, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,d4,exd4,Nxd4,Bd7,Nf5,Bxf5,exf5,Ne7,f6,gxf6,Nc3,Qd7,Nd5,Nxd5,Qxd5,O-O-O,Bf4,Rhg8,c3,a6,Bxc6,bxc6,Qd3,Rg4,Qxa6+,Kb8,Bg3,Rdg8,b4,Ba7,Rad1,h5,h3,Rxg3,Qxa7+,Kxa7,fxg3,Rxg3,Rxf6,Qxh3,Rd2,Qd7,a4,Qe7,Rdf2,Qe3,Rxf7,Qxc3,Rxc7+,Kb6,Rcf7,Qxb4,R7f4,Qe1+,Kh2,h4,Rb2+,Kc7,Rf7+,Kc8,Rf8+,Kd7', 'Rb7+,Ke6,Re8+,Kd5,Rxe1', 'https://lichess.org/training/48iwG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('48LGD', 'Rapid', 'sausage-of-truth', 2043, 'Shirayukihime', 2026, 'd4,Nf6,Bf4,g6,e3,Bg7,Nd2,O-O,Bd3,b6,Qf3,c6,h4,h5,O-O-O,d5,Qe2,a5,f3,a4,e4,a3,b3,c5,e5,Ne8,dxc5,bxc5,g4,c4,bxc4,hxg4,h5,dxc4,Bxc4,Qd4,Ne4,Qb2+,Kd2,Qb4+,Nc3,Nc6,Rb1,Qa5,hxg6,Nd4,gxf7+,Rxf7,Bxf7+,Kxf7,Qc4+,Ne6,fxg4,Ba6,Qe4', 'Rd8+,Kc1,Qxc3', 'https://lichess.org/training/48LGD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('48OMP', 'Classical', 'fadilcelik', 1830, 'ramirex999', 1742, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,Ne5,Ne7,Be2,Nd7,f4,Nxe5,fxe5,Nd5,O-O,Be7,c4,Nb4,Bh5,Bxh5,Nxh5,O-O,Qg4,g6,Bh6,Kh8,Rf2,Rg8,Nf6,Bxf6,Rxf6,Qe7,Raf1,Raf8,Bxf8,Rxf8,Qf3,Kg7,h4,h5,g4,Nc2,gxh5,Nxd4,h6+,Kg8,Qg4,Nf5,R6xf5,exf5,Rxf5,Qc5+,Rf2,Qxe5,b3,Kh7,Qg5,f6', 'Qxe5,fxe5,Rxf8', 'https://lichess.org/training/48OMP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('48q2h', 'Blitz', 'Dzon_Vejn', 2388, 'NM scabies', 2391, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Qc2,h5,Ne2,Re8,Be3,Qc7,h3,h4,O-O-O,Nd7,Rdg1,c5,g3,cxd4,Bxd4,hxg3,Nxg3,Ne5,Nh5,Nxd3+,Qxd3,Kf8,Rxg7,Bf4+,Kb1,Qa5,Qh7', 'Bf5+,Ka1,Bxh7', 'https://lichess.org/training/48q2h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('48Vre', 'Rapid', 'Uellauella', 1652, 'AZAlg', 1643, 'e4,c6,Nf3,a6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Bg4,Be2,e6,h3,Bh5,cxd5,Nxd5,Nxd5,Qxd5,Qa4+,Nc6,O-O,Be7,Bc4,Qd7,Ne5', 'Nxe5,Qxd7+,Nxd7', 'https://lichess.org/training/48Vre');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('48X3m', 'Classical', 'khanahmadi', 2022, 'Uniface', 2025, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,Bxc6,dxc6,Nxe5,Be6,d3,Nf6,Bg5,Be7,Nd2,h6,Bh4,Qd4,Ndf3,Qxb2,Rb1,Qxa2,Rxb7,g5,Bg3,Bd6,Nxc6,Qd5,Bxd6,Qxc6,Be5,Qxb7,Bxf6,Rg8,Re1,a5,d4,Rg6,Be5,Kf8,Qd3,Bd5,c4,Bxf3,gxf3,a4,d5,a3,Ba1,Qb4,Qe4,Qd6,c5,Qxc5,d6,Rb8,Qe7+,Kg8,Qe8+,Rxe8', 'Rxe8+,Kh7,Rh8#', 'https://lichess.org/training/48X3m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('49Bmu', 'Rapid', 'tiogustavo', 2440, 'wQf7', 1939, 'e4,e6,d4,d5,Nc3,Bb4,Ne2,dxe4,a3,Bxc3+,Nxc3,f5,f3,exf3,Qxf3,Nf6,Bg5,O-O,O-O-O,Nc6,Bc4,Nxd4,Qe3,c5,Nb5,Ng4,Qf4,Qb6,Nxd4,cxd4,h3,Ne3,Rxd4,h6,Bxh6,Nxg2,Qg5,Qxd4,Qxg2,Kh7,Rg1,gxh6', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/49Bmu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('49dYw', 'Rapid', 'tantofaz123', 1799, 'Xeposem', 1836, 'c4,e5,Nc3,Nf6,e4,Bc5,d3,Nc6,Bg5,h6,Bh4,Nxe4,Bxd8', 'Bxf2+,Ke2,Nd4#', 'https://lichess.org/training/49dYw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('49eyE', 'Rapid', 'Yersinia_Pestis', 1815, 'Recif', 2018, 'd4,Nf6,c4,c5,d5,e5,dxe6,dxe6,Qxd8+,Kxd8,Nc3,Bd7,Bg5,Be7,Nf3,Nc6,e3,h6,Bh4,a6,a3,Ng4,Bxe7+,Kxe7,h3,Nge5,Be2,Rab8,O-O,Nxf3+,Bxf3,Ne5,Be2,Bc6,f4,Nd7,Bf3,Rhc8,Rad1,b5,Bxc6,Rxc6,cxb5,axb5,f5,b4,Ne4,bxa3,bxa3,Rb3,Rf3,Rxa3,Ng3,Ne5,Rf4,Rxe3,f6+,gxf6,Nh5,f5,Kh2,c4,Ra1,Rc7,Ra8,c3,Ng7,c2,Re8+,Kf6,Nh5+,Kg6,g4,Re2+,Kg3,Rc3+,Kh4,Nf3+,Rxf3,Rxf3', 'Rg8+,Kh7,Nf6#', 'https://lichess.org/training/49eyE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('49jdc', 'Blitz', 'FM molodoiataker', 2586, 'Beta99', 2578, 'd4,d5,c4,dxc4,Nf3,Nf6,e3,e6,Bxc4,c5,O-O,a6,a4,cxd4,exd4,Nc6,Nc3,Be7,d5,exd5,Nxd5,Nxd5,Bxd5,O-O,h3,Bf6,Ra3,Nb4,Be4,Re8,Qxd8,Rxd8,Rb3,Nc6,Bxc6,bxc6,Rb6,c5,Be3,c4,Rc1,Be6,Nd2,Rdc8,Ne4,Bd8,Rd6,Bc7,Rd2,h6,Nc5,Ba5,Rd6,Bb4,Rxe6,fxe6,Nxe6,c3,bxc3,Bxc3,Rd1,Bf6,Rd7,Rc4,a5,Ra4,Bb6,Be5,g3,Rc8,Kg2,Rc2,Rd5,Bf6,Nf4,Bc3,h4,Rca2,h5,Bxa5,Ng6,Bc3,Rd8+,Kf7,Bc5,Bf6,Rd7+,Ke6,Rd3,Rc4,Nf4+,Kf7,Rd7+,Ke8,Rc7,Rxf4,gxf4,a5,Kf3,a4,Ke4,Bb2,Kd5,a3,Ke6,Ra1', 'Rc8#', 'https://lichess.org/training/49jdc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('49MnG', 'Classical', 'karam1993', 1907, 'BlackJack05', 1907, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Bd2,Bg4,Bxb4,Nxb4,Qa4+,Nc6,d5,Bxf3,dxc6,Bxe4,cxb7+,Kf8,bxa8=R,Qxa8,f3,Bf5,O-O,Nf6,Nc3,g6,Rfe1,Kg7,Re7,Rf8,Rxc7,Qb8,Qxa7,Qxb2,Rxf7+,Kh6,Rf1,Rxf7,Qxf7,Qxc3,a4,Nh5,Qf8+,Ng7,Qf7,Nh5,g4,Nf4,gxf5,Qd2,Qf8+,Kh5,Rf2,Nh3+,Kg2', 'Qxf2+,Kxh3,Qxf3#', 'https://lichess.org/training/49MnG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('49mSQ', 'Rapid', 'rudi-kusaman', 1844, 'Petelarge', 1815, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,h3,Bc5,Nc3,O-O,d4,Bb6,Be3,Re8,e5,Nd5,Nxd5,cxd5,c3,Bf5,Bd3,Bg6,Bxg6,fxg6,O-O,h6,Qg4,Qc8,Qxg6,Re6,Qg4,Qd7,f4,Qf7,f5,Ree8,Bxh6,Rxe5,f6,Re4,Qxg7+,Qxg7,fxg7,c5,Rae1,Rxe1,Rxe1,cxd4,Re7', 'dxc3+,Kh2,cxb2', 'https://lichess.org/training/49mSQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('49qak', 'Classical', 'tnys', 1772, 'ddalgat', 1750, 'e4,c6,Nf3,d5,exd5,cxd5,Nc3,Nf6,d4,e6,Bb5+,Nc6,Ne5,Qc7,Qe2,Bd6,Bg5,Be7,Bxf6,Bxf6,f4,O-O,O-O-O,Nxe5,fxe5,Be7,Rhf1,a6,Bd3,g6,Qg4,b5,h4,Bb7,h5,Kg7,hxg6,fxg6,Qxe6,Rae8,Rxf8', 'Bg5+,Kb1,Rxe6', 'https://lichess.org/training/49qak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('49Sw7', 'Blitz', 'Ravenwest007', 2283, 'GM zvonokchess', 2703, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Qe7,Qe2,Nd5,h4,Qe6,c4,Nb6,b3,a5,Bb2,a4,Nd2,axb3,axb3,Rxa1+,Bxa1,Bb4,g3,O-O,Bh3,Qh6,f4,d5,Bxc8,Rxc8,O-O,Qg6,Kh2,Qc2,Rf2,Ra8,e6,Bxd2,exf7+,Kxf7,Qe5,Rxa1,Qxa1,dxc4,bxc4,Bc3,Qf1,Qe4,Re2,Qxc4,Qf3,Qc5,Rc2,Nd5,Qh5+,Kf8,Qxh7,Qe3,Qh8+,Kf7,Qh5+,Ke7', 'Re2,Qxe2+,Qxe2+', 'https://lichess.org/training/49Sw7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('49VCx', 'Blitz', 'aleksejdyundin', 1623, 'radec1979', 1645, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e6,f4,Qc7,g4,Be7,g5,Nfd7,Be3,e5,Nf5,exf4,Bxf4,Ne5,Nd5,Qa5+,Bd2,Qc5,Nfxe7,Be6,Bb4,Qa7,Bxd6,Bxd5,Nxd5,Nbd7,Nc7+,Kd8,Nxa8,Qe3+,Qe2,Nf3+,Kd1,Qd4+,Qd3,Qxb2,Rc1,Nfe5,Nb6,Qxb6,Bxe5,Ke7,Bxg7,Rd8,Ke2,Ne5,Bf6+,Ke6,Qxd8,Qb5+,Kf2,Qc5+,Kg3,Qe3+,Kg2,Qf3+,Kg1,Qe3+,Kg2,Qf3+,Kh2', 'Qf2+,Bg2,Nf3#', 'https://lichess.org/training/49VCx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('49wG0', 'Rapid', 'wyvernn', 1654, 'Rockfeller567', 1669, 'd4,d5,Nf3,c5,dxc5,Nc6,Nc3,d4,Ne4,f5,Ng3,e5,e4,f4,Nf5,Bxf5,exf5,Bxc5,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/49wG0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4a0GM', 'Rapid', 'viswarchandu345', 1658, 'aditya_desai', 1607, 'd4,d5,c4,dxc4,Nc3,Nc6,Nf3,Nf6,e4,e5,d5,Nb4,Bxc4,Nxe4,Nxe4,Nxd5,Bxd5,Bb4+,Bd2,Qxd5,Qa4+,Bd7,Qxb4,O-O-O,Nc3,Qd6,Qb3,Bc6,Qxf7,Bxf3,Qf5+,Kb8,Ne4', 'Bxe4,Qxe4,Qxd2+', 'https://lichess.org/training/4a0GM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4A3q5', 'Classical', 'Clarkhinz', 2249, 'JoeyFlorendo', 1662, 'e4,c6,Nc3,d5,Nf3,Nf6,e5,Nfd7,d4,e6,Bd3,c5,Bg5,Qa5,dxc5,Nc6,O-O,Bxc5,a3,Be7,Bxe7,Nxe7,Re1,a6,Ng5,h6,Nh7,Qc7,Qg4,Rg8,Qh5,Nc5,Qg4,Bd7,Rac1,Qb6,b4,Nxd3,cxd3,Rc8,h4,a5,h5,axb4,axb4,Qa6,Red1,Qa3,Nb5,Bxb5,Nf6+,Kd8,Rxc8+,Kxc8,Nxg8,Nxg8,Qd4,Kd7', 'Ra1,Qxa1+,Qxa1', 'https://lichess.org/training/4A3q5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4A3u2', 'Rapid', 'MGGM1200', 1822, 'God-Grace', 1723, 'd4,d5,c4,dxc4,Nc3,Nc6,Nf3,Bf5,e4,Bg4,d5,Ne5,Be2,Bxf3,Bxf3,Nd3+,Ke2,c6,Qa4,Qb6,Qxc4,Nxc1+,Rhxc1,Qxb2+,Kf1,Rc8,dxc6,Rxc6,Qa4,b5,Qxa7,Rxc3,Qb8+,Kd7,Rd1+,Ke6,Bg4+,f5,Bxf5+,Kf7,Qe5,Rc2,Qe6+,Ke8,Qd7+,Kf7,Qd5+,Kf6,Qe6+,Kg5,f4+,Kxf4,g3+,Kg5', 'h4+,Kh5,Bg4#', 'https://lichess.org/training/4A3u2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4a7Es', 'Rapid', 'WhatTheFoxSays', 1777, 'kas55', 1761, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d6,O-O,O-O,Re1,Bg4,Qb3,Na5,Qc3,Nxc4,Nxc4,d5,exd5,Nxd5,Qd3,Nf6,Nfe5,c5,Qg3,Be6,dxc5,Bxc4,Nxc4,Qd4,Nd6,Qxc5,Nxb7,Qb6,Nd6,Qxb2,Nf5,g6,Nh6+,Kg7,Nf5+,Kh8,Nh6,Nh5,Qf3,Kg7,Nxf7,Rxf7,Qxa8,Qxf2+,Kh1,Nf4,Qf3,Qxf3,gxf3,Nd3,Re3,Nc5,Rae1,Kh6,Re7,Rxf3,Rxa7,Nd3,Ree7,Ne1,Rxh7+,Kg5,Kg1,Rf4,a4,Nf3+,Kg2,Nh4+,Kg3', 'Rf3#', 'https://lichess.org/training/4a7Es');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Ad6C', 'Rapid', 'Noobozavr', 1731, 'joemuscardelli', 1710, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,Bb4,Bd2,Nf6,e5,Ng8,a3,Ba5,Qg4,g6,Bh6,Nxh6,Qf4,Nf5,g4,Ne7,b4,Bb6,Ne4,Nd5', 'Nd6+,Ke7,Qxf7#', 'https://lichess.org/training/4Ad6C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4afBA', 'Rapid', 'gafare', 2049, 'Hannibal__Lecter', 1947, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,e6,Ne5,Bh7,h5,Nd7,Nxd7,Qxd7,Be3,Nf6,Bd3,Bxd3,Qxd3,Ng4,O-O-O,Nxe3,fxe3,O-O-O,Kb1,Kb8,Ne4,Bd6,g4,Bc7,Rhf1,Bb6,c4,c5,d5,exd5,cxd5,Qxg4,Rxf7,Rhe8,Nc3,Qxh5,Rxg7,Qe5,Qh7,Bc7,e4,Rh8,Qg6,Rd6,Qf7,Rb6,Rg8+,Bd8,Qf8,Rxg8,Qxg8,Qf6,e5,Qg5,Qxg5,Bxg5,Rg1,a6,Ne4,Rg6,e6,Kc7,d6+,Kd8,e7+,Ke8,Nxc5,Rxd6,Nxb7,Rb6,Nc5,Bxe7,Re1,Kf7,Ne4,Re6,b3,Bh4,Re2,Bd8,Rf2+,Bf6,Nc5,Re1+,Kc2,Ra1,Kd3,Rd1+,Kc4', 'Rd4+,Kc3,Rf4+,Kd3,Rxf2', 'https://lichess.org/training/4afBA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4AFiI', 'Rapid', 'EngAli', 2024, 'MustafaCheema', 2035, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,c3,Be7,d4,exd4,cxd4,O-O,Nc3,Bb4,Re1,Bxc3,bxc3,Nh7,Ba3,Re8,Qb3,Qf6,e5,Qg6,Nh4,Qh5,g3,Na5,Qb4,Nxc4,Qxc4,c6,Re3,d5,exd6,Be6,Qe2,Qd5,Re5,Qc4,Re1,Qxc3,Bb2,Qb4,Nf5,Nf6,Ne3,Qxd6,Nc2,Bh3,Qf3,Bg4', 'Rxe8+,Nxe8,Qxg4', 'https://lichess.org/training/4AFiI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ANca', 'Rapid', 'mahen', 2073, 'BP9Sharma', 2145, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Bc5,O-O,O-O,Nbd2,d6,c3,Rb8,h3,Ne7,Re1,Ng6,Nf1,Bb6,Ne3,c5,Nd5,Nxd5,Bxd5,Kh8,Qe2,f6,Kh2,Bc7,g3,Ne7,Bb3,d5,Bc2,dxe4,dxe4,Bb6,Be3,c4,Rad1,Qc7,Nh4,Be6,g4,Bxe3,Qxe3,Rbd8,Rg1,Rxd1,Rxd1,Kg8,Kg2,g5,Nf5,Ng6,Kh2,Nf4,Qd2,Bxf5,exf5,Kg7,Qd6,Qa7,Qd7+,Rf7,Qxa7,Rxa7,Be4,h5,f3,h4,Rd8,Kf7,Rh8,Rd7', 'Rh7+,Ke8,Bc6', 'https://lichess.org/training/4ANca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Apb5', 'Blitz', 'jayschab', 1502, 'danil2014', 1510, 'e4,e5,Nf3,d6,Nc3,Nc6,Nd5,Nf6,Bd3,Bg4,h3,Bh5,Bb5,a6,Bxc6+,bxc6,Nxf6+,Qxf6,g4,Bg6,d3,Be7,Qd2,h6,Nh2,O-O-O,Rf1,h5,Qc3,c5,Qc4,hxg4,Nxg4,Qf3,Qxa6+,Kd7,Qb5+,Kc8,Ne3,Rxh3,Nc4,Bh5,Kd2,Rh2,Kc3,f5,exf5,e4,Qc6,Qxf5', 'Nb6+,Kb8,Qa8#', 'https://lichess.org/training/4Apb5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4appC', 'Blitz', 'AndreySid', 1755, 'samichibani44', 1814, 'e4,g6,Nf3,Bg7,d4,d6,Bc4,Nf6,Nc3,O-O,O-O,b6,Be3,c5,e5,dxe5,dxe5,Ng4,Bd5,Ba6,Re1,Nd7,Bxa8,Qxa8,Qxd7,Nxe5,Nxe5,Bxe5,Bd2,Bf6,Rad1,Rd8,Qa4,Bb7,Ne4,Bd4,Ng5,Bxg2,Qb3,Bd5,Qh3,h5,Rxe7,Bf6,Re3,Bxg5,Rd3,Be6,Bxg5,Rxd3,Qxd3,Qb7,Bf6,Kh7,Qd8,g5,Qh8+,Kg6,Qg7+,Kf5,Rd3,Qe4,f3,Qe1+,Kg2,Qe2+,Kg3', 'h4+,Kh3,Kf4#', 'https://lichess.org/training/4appC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4aTV9', 'Rapid', 'jeangreymarvel', 2064, 'htb', 1903, 'Nf3,a6,c4,b6,e4,Bb7,Nc3,e6,d4,c6,Be2,d5,cxd5,cxd5,e5,Nc6,Bg5,Be7,Bxe7,Ngxe7,Qd2,Nf5,g4,Nh4,Nxh4,Qxh4,Qf4,h6,O-O-O,Qg5,Qe3,Rc8,h4,Qxe3+,fxe3,b5,Kd2,Ke7,Rdf1,f6,exf6+,gxf6,Nd1,e5,dxe5,Nxe5,Rhg1,Rcd8,g5,fxg5,hxg5,hxg5,Rxg5,Ke6,Nf2,Rhf8,Ng4,Rxf1', 'Rxe5+,Kd6,Bxf1', 'https://lichess.org/training/4aTV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4awsa', 'Blitz', 'Wolowitz_001', 1557, 'KinGGanzo', 1596, 'd4,c5,d5,d6,e4,Nf6,Bd3,g6,c4,Bg7,Nc3,O-O,Bg5,a6,Qd2,Nbd7,Bh6,Ng4,Bxg7,Kxg7,h4,Nde5,Bc2,Nxc4,Qg5,Nxb2,h5,e5,h6+,Kg8,Qd2,Qf6,f3,Nc4,Qe2,Nge3,Na4,b5,Nb6,Nxc2+,Qxc2,Nxb6,Qc1,a5,Ne2,Ba6,f4,exf4,Nxf4,b4,Rh3,Rae8,Qe3,Qxa1+,Kf2,Qf1+,Kg3,g5,Nh5,Nxd5', 'Qxg5+,Kh8,Qg7#', 'https://lichess.org/training/4awsa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4AwZg', 'Rapid', 'Denisbances_unprg', 1631, 'mband', 1680, 'd4,d5,Nf3,Nf6,c4,c6,e3,Bg4,Nbd2,e6,Be2,Nbd7,O-O,c5,cxd5,exd5,dxc5,Bxc5,a3,O-O,b4,Bd6,Bb2,Re8,Rc1,Ne5,Nd4,Bxe2,Qxe2,a6,h3,b5,f4,Ned7,Nf5,Bf8,g4,Rc8,g5,Ne4,Nxe4,dxe4,Bxg7,Bxg7,Nd6,Rxc1,Rxc1,Re6', 'Rc8,Qxc8,Nxc8', 'https://lichess.org/training/4AwZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4axSv', 'Rapid', 'ramiro70', 1848, 'order523', 1950, 'd4,d5,Bf4,Bf5,Nf3,Nf6,e3,h6,Bd3,Bxd3,Qxd3,Nbd7,Nc3,e6,Nb5,Rc8,Nxa7,Ra8,Nb5,Rc8,a4,Nh5,Ne5,Nxf4,exf4,Nxe5,fxe5,c6,Nd6+,Bxd6,exd6,Qxd6,O-O,O-O,a5,Ra8,b4,Qxb4,Rfb1,Qe7,Qb3,Rfb8,Qb6,Ra6,Qb3,Qf6,c3,e5,dxe5,Qxe5,Re1,Qf6,c4,dxc4,Qxc4,Rd8,Qb3,Rd2,Qg3,Ra7,Rf1,Ra8,Ra3,Rad8,Rf3,Qg6,Qc7,Rd1,g3,Rxf1+,Kxf1,Qb1+,Kg2,Rf8,g4,Qb5,Kg3,c5,Rf5,Qd3+,f3,c4,Qxb7,f6,a6,c3,a7,c2,Rxf6,gxf6,a8=Q,Rxa8,Qxa8+,Kg7,Qb7+,Kg6,Qc7,Qd2,h4,c1=Q', 'h5+,Kg5,Qg7#', 'https://lichess.org/training/4axSv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4axZp', 'Blitz', 'ISubMit', 1889, 'pufnicava3', 1944, 'e4,b6,Nf3,Bb7,Bc4,g6,Nc3,Bg7,d3,e6,Bf4,Ne7,e5,O-O,Qe2,d6,exd6,cxd6,O-O-O,e5,Bg3,Nf5,d4,Nxg3,hxg3,exd4,Nxd4,Bxd4,Rxd4,Qf6,Rf4,Qe5,Qxe5,dxe5,Rf6,Nd7,Rd6,Nc5,Bd5,Bxd5,Nxd5,Rad8', 'Nf6+,Kg7,Rxh7#', 'https://lichess.org/training/4axZp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4AyH3', 'Blitz', 'jafett', 1520, 'JoConquete', 1537, 'd4,d5,Bf4,Bf5,e3,h6,Bd3,Bh7,Bxh7,Rxh7,Nf3,e6,O-O,Nc6,c3,Bd6,Nbd2,Nf6,Qc2,g5,Be5,Bxe5,dxe5,Ne4,Nxe4,dxe4,Qxe4,Rg7,Rfd1,Qe7,Rd2,Rd8,Rad1,Rxd2,Rxd2,Qc5,h3,b6,Nd4,Nxd4,exd4,Qd5,Qxd5,exd5,g4,Ke7,Kg2,Ke6,b4,f5,exf6,Kxf6,Re2,Rf7,Re5,Rd7,Kg3,a5,a3,axb4,axb4,c6,h4,Ra7,f4,gxf4+,Kxf4,Ra2,g5+,Kf7,Kg4,Rg2+,Kh5,hxg5,hxg5,Rg3,g6+,Rxg6,Rf5+,Kg7,Re5,Kf7,Re3,Rg8,Rf3+,Ke7,Kh6,Rh8+,Kg7,Rh1,Re3+,Kd7,Kf6,Rf1+,Ke5,Rf7,Rg3,b5,Rh3,Kc7,Ke6,Rd7,Rh8,Rg7,Rh3,Rg2,Rh7+,Kb6,Rh3,Rg6+,Kd7,Rg7+,Kc8,Ka6,Kb8,Kb6,Re3', 'Rg8+,Re8,Rxe8#', 'https://lichess.org/training/4AyH3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4azco', 'Rapid', 'Aiktome', 1697, 'Karkamik', 1696, 'e4,c5,Nf3,Nc6,Bb5,g6,Nc3,Bg7,O-O,Nf6,e5,Ng4,Bc4,Ngxe5,Nxe5,Nxe5,Bb5,a6,Ba4,b5,Bb3,c4,Bxc4,Nxc4,Re1,O-O,Nd5,e6,Nf4,Bb7,d3,Nxb2,Bxb2,Bxb2,Rb1,Bc3,Re3,b4,Qg4,f5,Qg3,Qc7,Qg5,Bf6,Qh6,Bg7,Qg5,Qd8,Qg3,Bh6,Nxg6,Qg5,Ne7+,Kf7,Nxf5,exf5,Qd6,Qf6,Qxd7+,Kg8,Qxb7,Bxe3,fxe3,a5,Rf1,Qc3,Rf3,Qxc2', 'Rg3+,Kh8,Qg7#', 'https://lichess.org/training/4azco');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4azgw', 'Rapid', 'Singularity_0', 1616, 'MasterGleb10', 2011, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,Ne7,Bg5,f6,Bh4,O-O,Bg3,Bf5,Bd3,c6,Bxf5,Nxf5,Qd3,Ne7,O-O-O,b5,a3,a5,Rde1,Ng6,Nh4,Nxh4,Bxh4,a4,Bg3,Qc7,Re6,Bxg3,hxg3,g6,Ne2,Na6,Nf4,Rae8,Nxg6,hxg6,Rxc6,Qb7,Rxa6,Kg7,Ra5,Rb8,b3,axb3,cxb3', 'Qc7+,Kb2,Qxa5', 'https://lichess.org/training/4azgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4AZSO', 'Classical', 'Ryjam23', 1723, 'ashwanikr', 1696, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Bd3,g6,Be3,Bg7,Qd2,Nc6,Nxc6,bxc6,c3,c5,O-O,h6,f4,Nf6,f5,g5,Qf2,Ng4,Qf3,Nxe3,Qxe3,Bb7,Qf3,Rb8,Nd2,Qb6,b3', 'c4+,Kh1,cxd3', 'https://lichess.org/training/4AZSO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4B2Tu', 'Rapid', 'RiskyRook', 1851, 'Vainamoinem', 1824, 'c4,e5,g3,d6,Bg2,Be7,d3,f5,Nc3,Nf6,e3,O-O,Nf3,Nc6,O-O,a5,a3,Rb8,Rb1,Qe8,b4,e4,dxe4,fxe4,Nd2,Bg4,Qc2,Qh5,Ncxe4,Nxe4,Nxe4,Bf3,Bxf3,Qxf3,Qd1', 'Qxe4,Qd5+,Qxd5', 'https://lichess.org/training/4B2Tu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Ba0a', 'Classical', 'weini2k', 1882, 'agashakr', 1817, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Nc6,Bc4,Nf6,e5,d5,Bb3,Nd7,Ba4,a6,Bxc6,bxc6,O-O,Qc7,Bf4,Be7,Bg3,Rb8,Qe2,O-O,Rac1,Qa5,b3,Bb4,Na4,c5,Ne1,Bb7,Nd3,Ba3,Rc2,Rbc8,Ndb2,Qd8,Rfc1,Qe7,f4,Rc7,f5,exf5,e6,fxe6,Bxc7,Qg5,Qxe6+,Rf7,Rf1,Nf8,Qe8,Rxc7,Rcf2,Re7,Rxf5', 'Qe3+,Kh1,Rxe8', 'https://lichess.org/training/4Ba0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bbhn', 'Rapid', 'IPETROV123456', 1862, 'Sergey-aero', 1727, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Nxd4,Nf6,Qe2,Be7,e5,dxe5,Qxe5,O-O,O-O,a6,Nf5,Bd6,Nxd6,Qxd6,Bf4,Qxe5,Bxe5,b5,Bb3,c5,Bd6,c4,Bxf8,Kxf8,Rd1,Nbd7,Bxc4,bxc4,Na3,c3,bxc3,Bb7,Rab1,Bd5,c4,Be6,Rd6,Ne4,Rd4,Nc3,Re1,Nxa2,Rxe6,fxe6,Rxd7,Nb4,Rc7,Rd8,Kf1,Rd1+,Ke2,Ra1,Rb7,Nc6,Nb1,a5,Kd3', 'Nb4+,Kc3,Rxb1', 'https://lichess.org/training/4bbhn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4BH9W', 'Classical', 'Danirosi1960', 1938, 'emanuelassuncao', 1975, 'e4,e5,Nf3,d6,Nc3,Nf6,Bc4,Be7,d4,exd4,Nxd4,O-O,O-O,c6,a3,b5,Bd3,Bb7,b4,d5,exd5,Nxd5,Nxd5,Qxd5,Nf5,Bf6,Bg5,Bxg5,Qh5,h6,h4,c5,f3,Be3+,Kh1,Re8,Rae1,Nd7,Qg4,Bd4,Nxh6+,Kh8,Be4,Rxe4,fxe4,Qe6', 'Nxf7+,Qxf7,Rxf7', 'https://lichess.org/training/4BH9W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bhj9', 'Classical', 'InstanceofDeath', 1851, 'sir_petrovich', 1827, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,dxc3,Qb3,Qf6,e5,Qg6,Nh4,Qh5,Ba3,Nh6,Nf3,Ng4,h3,Ngxe5,Nxe5,Nxe5,Re1,c2', 'Bxf7+,Qxf7,Rxe5+', 'https://lichess.org/training/4bhj9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bhkR', 'Rapid', 'maloxis', 1612, 'Jubb', 1643, 'g3,d5,Bg2,e5,b3,Nd7,Bb2,g6,Bxd5,Bg7,Nf3,Ne7,Bc4,c6,Ng5,O-O,O-O,b5,Bd3,Bb7,c4,b4,Qc2,c5,e3,Nc6,Be4,Qxg5,f4,exf4,exf4,Qd8,Bxg7,Kxg7,d3,Nd4,Qb2,Rb8,Bxb7,Rxb7,Nd2,Nf6,Ne4,Re7,Nxc5,Re2,Qc1,Rfe8,Ne4,Nxe4,dxe4,R8xe4,c5,R4e3,Qc4,Qd7,Rad1,Qc6,Qxd4+,f6,Qd7+,Qxd7,Rxd7+,Kh6,c6,Rc2,c7,Ree2,Rf3,Rxh2', 'c8=Q,Rxc8,Kxh2', 'https://lichess.org/training/4bhkR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4BIuV', 'Blitz', 'ntjakantja', 1563, 'fidehrac', 1583, 'e4,e6,d4,d5,e5,c5,f4,Nc6,Nf3,f6,c3,cxd4,cxd4,fxe5,fxe5,Bb4+,Bd2,Qa5,a3,Bxd2+,Qxd2,Qxd2+,Nbxd2,Nge7,Bb5,O-O,O-O,a6,Ba4,b5,Bc2,Nf5,Ng5,Nfxd4', 'Bxh7+,Kh8,Rxf8#', 'https://lichess.org/training/4BIuV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4BJ78', 'Rapid', 'NandaAnand', 1616, 'said77', 1720, 'd4,e6,e4,d5,e5,a6,Nf3,h6,Nc3,Nc6,Be2,Bd7,O-O,Be7,b3,g5,h3,h5,Qd2,g4,Ng5,f5,exf6,Bxf6,h4,Nxd4,a4,Nxe2+,Nxe2,Qe7,Ba3,c5,c3,O-O-O,Nd4,cxd4,Bxe7,Bxe7,cxd4,Nf6,Nf7,Ne4,Qc2+,Kb8,Nxd8,Rxd8,Rac1,Bc6,f3,gxf3,Rxf3,Bxh4,Rh3,Bf6,Rxh5,Bxd4+,Kh2,Be3,Rf1,d4,Re5', 'Rh8+,Rh5,Rxh5#', 'https://lichess.org/training/4BJ78');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bJr1', 'Classical', 'chukwumaj', 1929, 'lolo0608', 1929, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bg6,Bxg6,hxg6,Nf3,e6,Be3,Qb6,b3,Nd7,a4,c5,Nbd2,cxd4,Bxd4,Bc5,Bxc5,Qxc5,O-O,Ne7,Re1,O-O,c4,d4,Ne4,Qb4,Qxd4,Rfd8,Qb2,Nc5,Nxc5,Qxc5,Qa3,Qc7,Rad1,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,Qd6,Nc6,Nd4', 'Qxd6,exd6,Nxd4,d7,Nc6', 'https://lichess.org/training/4bJr1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bKB4', 'Rapid', 'warehden', 2028, 'aurevo1r', 1860, 'd3,d5,e3,c5,Bd2,Nc6,a3,Nf6,f3,e5,Qe2,Bd6,Nc3,O-O,e4,dxe4,Nxe4,Nxe4,dxe4,Nd4,Qd1,Be6,Be3,Qb6,Bxd4,cxd4,b4,a5,b5,Bd7,Bd3,Bxb5,Ne2,Bxd3,Qxd3,Rfc8,O-O,Qd8,Ng3,g6,a4,Bb4,Ra2,Rc3,Qe2,Rac8,f4,Qc7,f5,Rxc2,Rxc2,Qxc2,Qg4,Qxa4', 'fxg6,hxg6,Qxc8+', 'https://lichess.org/training/4bKB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4BLg4', 'Rapid', 'BEBEAY', 2193, 'Eddie19', 2171, 'd4,g6,h4,Bg7,h5,d5,h6,Bf6,Nf3,e5,dxe5,Be7,b3,Bg4,Bb2,c5,Nbd2,d4,e3,Nc6,Bb5,Qc7,exd4,cxd4,Bxd4,O-O-O,Bxc6,Rxd4,Bb5,Bxf3,Qxf3,Qxe5+,Qe3,Qxe3+,fxe3,Rd8,Bc4,Bb4,O-O-O,Ba3+,Kb1,Bb4,Nf3,Rxd1+,Rxd1,Nxh6,Rh1,Ng4,Bxf7,Nxe3,Bxg6,Rg8,Bxh7,Rxg2,Nd4,Bc5,Ne6,Ba3,Nd4,a6,Re1,Nd5,Ne2', 'Rxe2,Rxe2,Nc3+,Ka1,Nxe2', 'https://lichess.org/training/4BLg4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4blyu', 'Blitz', 'Howrahravi', 1670, 'qweqwe123123', 2223, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Bd7,Qe2,Nc6,O-O,Qb6,a4,a6,Bxc6,Bxc6,d3,Ne7,b3,Ng6,h3,Be7,Nbd2,O-O,Bb2,d4,Nc4,Qc7,Rae1,b5,axb5,axb5,Ncd2,Nf4,Qd1,Ra2,Bc1,Nd5,Ne4,Nb4,Re2,Rfa8,Rd2,Ra1,Qe2,Rb1,Neg5,Raa1,Ne4,Rxc1,Rxc1,Rxc1+,Kh2,Bxe4,Qxe4,Rxc2,Rxc2,Nxc2,Qe2,Nb4,Nd2,Bf6,f4,Be7,g4,Nd5,Qf3,Ne3,g5,g6,Ne4,Qa7,Nf6+,Kg7,h4,Qa2+,Kg3,Qxb3,h5,Qxd3', 'h6+,Kh8,Qa8+,Bf8,Qxf8#', 'https://lichess.org/training/4blyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bnJT', 'Classical', 'IlSar1987', 1651, 'mgh2080', 1771, 'Nf3,d5,d4,e6,Bf4,Nf6,Nc3,Bd6,Bxd6,Qxd6,h3,O-O,Qd3,c5,dxc5,Qxc5,O-O-O,Nc6,e3,a6,Ng5,h6,Nf3,b5,a3,Na5,b4,Qd6,bxa5,Qxa3+,Kd2,Qxa5,Be2,Ne4+,Ke1,Nxc3,Qd2,b4,Nd4,Nxd1,Bxd1,Qc5,f4,a5,Kf2,Re8,g4,e5,fxe5,Rxe5,Nf3,Re7,Be2,Bb7,Rc1,Rae8,Nd4,Rxe3,Bd3,Qxd4,Bh7+,Kxh7,Qxd4,Re2+,Kg1,R8e4,Qb6,Bc8,Qxa5,Be6,Qb5,R2e3,Kg2,h5,Rh1,Re2+,Kf1,Re1+,Kg2,R4e2+,Kf3,Re3+,Kf2,R1e2+,Qxe2,Rxe2+,Kxe2,Kg6,gxh5+,Kxh5,Kf3,Bf5,Rh2,Be4+,Kf4,g5+,Kg3', 'f5,Rd2,f4+', 'https://lichess.org/training/4bnJT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bof0', 'Rapid', 'pablosalermo1', 2003, 'jsssiadat', 1984, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,O-O,Be7,Be3,O-O,a4,Nbd7,Qd2,b6,Rfd1,Qc7,Bf3,Bg4,Nd5,Nxd5,Bxg4,Nxe3,Qxe3,Nf6,Be2,Rfd8,c4,Rab8,Nc1,Qc6,f3,Nd7,Na2,Qxa4,Nc3,Qb3,Rxa6,Nf8,Ra7,Bf6,Qd2,Ne6,Nd5,Nd4,Ra3,Qc2,Qxc2,Nxc2,Rb3,Nd4,Nxf6+,gxf6,Re3,b5,b3,bxc4,Bxc4,Rb4,Red3,Rd7,Rxd4,exd4,Rxd4,Kf8,Rd5,Kg7,Kf2,Rb6,Kg3,Rb8,Kf4,Re8', 'Bb5,Ree7,Bxd7', 'https://lichess.org/training/4bof0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bonO', 'Rapid', 'pajasah', 1747, 'Pavelpoldrakonovic', 1673, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,Bc5,Be3,d6,O-O,Bg4,Nbd2,h5,h3,Be6,Bxe6,fxe6,Ng5,Qe7,Nb3,Bb6,d4,O-O-O,d5,Bxe3,fxe3,exd5,exd5,Nb4,e4,c6,cxb4,cxd5,exd5,Nxd5,Qxd5,Qxg5,Rac1+,Kb8,Na5,Qe3+,Kh1,Rd7,Nc4,Qg5,Qe6,Rdd8,Nxd6,Rhf8,Ne4,Qe3,Qxe5+,Ka8,Rxf8', 'Qxc1+,Kh2,Rxf8', 'https://lichess.org/training/4bonO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bqny', 'Rapid', 'Abuumar', 2035, 'SKTEXAS', 2222, 'e4,f5,exf5,Nf6,Bc4,d5,Bb3,Bxf5,Nf3,Nc6,Nc3,e5,O-O,e4,Ng5,h6,Nf3,exf3,Qxf3,g6,Nxd5,Bg7,Re1+,Kd7,Nxf6+,Bxf6,d3,Kc8,Be6+,Kb8,Bxf5,Nd4,Qd1,gxf5,c3,Nc6,d4,b6,Qf3,Bg5,Bxg5,hxg5,Qxc6,g4,Re6,Qh4,Re8+,Rxe8,Qxe8+,Kb7,Qe5,Rh8,Rf1,Qh5,Re1,Qh6,Qxf5', 'Qxh2+,Kf1,Qh1+,Ke2,Re8+', 'https://lichess.org/training/4bqny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bREL', 'Rapid', 'voiwurf', 1938, 'Jantimman234', 1882, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,h3,h6,Be3,Nc6,Qd2,Kh7,O-O-O,e5,d5,Nb4,a3,Na6,g4,Ne8,h4,c5,Nh3,Bd7,g5,h5,Nb5,Qc8,Ng1,Bxb5,cxb5,Nac7,Rf1,c4,a4,f5,Bxh5,gxh5,Qe2,Kg6,f4,fxe4,Nh3,Nxd5,Rd1,Nb4,Bd2,Nd3+,Kb1,d5,fxe5,Bxe5,Bc3,Bxc3,bxc3,Nd6,Rdf1,Qc5,Rf6+,Rxf6,gxf6,Rh8,Qg2+,Kxf6,Rf1+,Ke6,Qg6+,Kd7,Rf7+,Nxf7,Qxf7+,Qe7,Qxd5+,Qd6,Qxb7+,Qc7,Qd5+,Kc8,Qa8+,Qb8,Qc6+,Kd8,Qf6+,Kc7,Qc6+,Kd8,Qf6+,Kd7,Qc6+,Ke7,Qxe4+,Ne5,Ng5,Rf8,Qh7+,Kd6,Qh6+,Kd5', 'Qe6+,Kc5,Ne4#', 'https://lichess.org/training/4bREL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bRY9', 'Rapid', 'yada', 1714, 'ege4322', 1690, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bd3,Bg7,Bg5,Nc6,Nxc6,bxc6,Qe2,Qb6,O-O-O,O-O,h4,Rb8,b3,Qb4,Bd2,Qa3+,Kb1,d5,Bc1,Qc5,Bb2,dxe4,Nxe4,Nxe4,Qxe4,Bxb2,Kxb2,Bf5,Qe3,Qa5,Bxf5,Qxf5,Qd3,Qxf2,Rd2,Qf6+,Qc3,Qxc3+,Kxc3,Rfd8,Rxd8+,Rxd8,Re1,e6,Kc4,Rd5,Re4,Kg7,Rd4,Kf6,Rxd5,cxd5+,Kd4,Kf5,a4,e5+', 'Kxd5,e4,Kd4', 'https://lichess.org/training/4bRY9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bt1g', 'Rapid', 'FM Hadza_3', 2270, 'SinanU', 1673, 'e4,d5,exd5,Qxd5,Qf3,Qd8,g3,Nf6,Bg2,e6,Nc3,Be7,d3,c6,Qe2,Nbd7,Nf3,b5,O-O,Bb7,Bf4,a6,Rae1,c5,Ne5,Nxe5,Bxb7,Ra7,Bg2,Ng6,Bc6+,Nd7,Bd2,Ne5,Bg2,Nf6,f4,Ned7,f5,O-O,fxe6,fxe6,Qxe6+,Rf7,Nd5,Nf8,Nxf6+,Bxf6,Qd5,Rd7,Qxc5,Bd4+,Qxd4,Rxd4,Bc3,Rdd7,Bh3,Rde7,Rd1,Qb6+,Kh1,Re2,Rxf7,Kxf7,Rf1+,Rf2,Re1,Qb7+,Re4,Qc6,Bg2,Qh6,Kg1,Rxc2,Rf4+,Kg8,h4,Qe6,Bd4,Qe1+,Rf1,Qxg3,Bf2,Qxd3,Kh2,Ng6,Bh3,Qf3,Be6+,Kf8,Kg1,Rxf2,Rxf2,Qxf2+,Kxf2,Ke7,Bc8,Nxh4,Bxa6,b4,Bd3,h6,a4,bxa3,bxa3,g5,Kg3,Kf6,Kg4,Ng6,Kg3,Ne5,Be4,h5,a4,h4+,Kh3,Nd7,a5,Nc5,Bc6,Ke5,Kg4,Nd3', 'a6,Kd6,a7', 'https://lichess.org/training/4bt1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bVab', 'Rapid', 'The-Apothecary02', 1785, 'Kobi2010', 1805, 'e4,e5,Nc3,Nf6,g3,Nc6,Bg2,d6,Nf3,Bg4,h3,Be6,O-O,Qd7,Kh2,h5,Ng5,g6,Nxe6,Qxe6,Nd5,O-O-O,d3,Ne7,h4,Nexd5,Bh3,Ng4+,Bxg4,hxg4,exd5,Qxd5,Qxg4+,Kb8,Bg5,Re8,Rad1,f5,Qa4,Bg7,f4,Ref8,Qd7,Bh6,Bxh6,Rxh6,Qg7,Rhh8,Qxg6,exf4,Rxf4,Rfg8,Qxf5', 'Rxh4+,Rxh4,Qxf5', 'https://lichess.org/training/4bVab');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bvcS', 'Blitz', 'niksama', 1897, 'dfcbkmtdbx60', 1939, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,Be7,O-O,Nb6,b3,Bd7,f4,Rc8,Nf3,cxd4,cxd4,Nb4,Bb1,Bb5,Ba3,Qc7,Bxb4,Bxb4,Bd3,Bxd3,Qxd3,Qc2,Qe3,O-O,Rfc1,Qb2,a4,Rxc1+,Rxc1,Rc8,Rxc8+,Nxc8,Kf2,Ne7,g4,Nc6,f5,exf5,gxf5,h6,f6,g5,Nxg5,Bd2,Qg3,hxg5,Qg4,Bf4,Qc8+,Kh7,Qf8,Kg6,Qg8+,Kf5', 'Qh7+,Ke6,Qh3+,g4,Qxg4#', 'https://lichess.org/training/4bvcS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4BVi3', 'Blitz', 'tmanojl24', 1850, 'Tdb', 1739, 'e4,e6,Nf3,c5,Be2,Nc6,c3,Bd6,O-O,Nge7,d4,cxd4,cxd4,Bb8,e5,O-O,Bb5,a6,Ba4,b5,Bc2,Bb7,Nbd2,Ng6,Nb3,Ba7,Be3,a5,a4,b4,h4,Nxh4,Nxh4,Qxh4,g3,Qe7,Qd3,g6,Bh6,Rfc8,Rac1,f6,exf6,Qxf6,d5,exd5,Qxd5+,Qe6,Qxe6+,dxe6,Be4,Nd8,Bxb7,Nxb7,Be3,Bxe3,fxe3,Nd6,Rf6,Rxc1+,Nxc1,Re8,Nb3,Kg7,Rf4,Nb7,Re4,Re7,Nd4,Kf6,Nc6,Rc7,Rf4+,Kg5,Nd4,e5', 'Ne6+,Kh6,Rh4#', 'https://lichess.org/training/4BVi3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bW48', 'Rapid', 'yura_kudr', 1914, 'querosene', 1805, 'e4,c5,Bc4,Nc6,Nf3,e6,e5,g6,O-O,Bg7,Re1,Nge7,h3,O-O,d3,h6,a4,a5,Bd2,d5,Bb3,Qc7,Bf4,Nb4,Qc1,Kh7,h4,c4,dxc4,dxc4,Ba2,Ned5,Bd2,Nxa2,Rxa2,b6,Nc3,Nb4,Ra1,Bb7,Nb5,Qd8,Bxb4,axb4,Nbd4,Ra5,c3,b3,Qf4,Qc8,Nh2,Qa8,f3,Rxa4,Rxa4,Qxa4,Ng4,Qa2,Re2,Qb1+,Kh2,Qd3,Nf6+,Bxf6,Qxf6,b5,Re1,Qd2,Rg1,Qxb2', 'Nxe6,fxe6,Qxf8', 'https://lichess.org/training/4bW48');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bwba', 'Rapid', 'alfdl', 1769, 'HartPURO', 1621, 'e4,c5,c3,Nc6,Bd3,d6,Bc2,Nf6,Nf3,Bg4,h3,Bh5,Na3,Ne5,d4,Nxf3+,gxf3,cxd4,cxd4,Qb6,Nc4,Qb4+,Nd2,Qxd4,O-O,Rc8,Ba4+,Nd7,Bxd7+,Kxd7,Rb1,e6,Qb3,b6', 'Qb5+,Kd8,Qxh5', 'https://lichess.org/training/4bwba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bxVy', 'Blitz', 'h3h6', 2051, 'SpeaX', 2099, 'd4,Nf6,c4,e6,Bg5,c5,dxc5,Bxc5,e3,Qa5+,Nc3,Ne4,Bf4,Nxc3,Qd2,Bb4,a3,Ne4,Qxb4,Qxb4+,axb4,Nc6,b5,Nb4,O-O-O,a6,f3,Nf2,Bd6,a5,Nh3,Nxd1,Kxd1,f6,Nf4,b6,Nd3,Nxd3,Bxd3,Bb7,h4,Kf7,h5,e5,Bf5,g6,Bd3,Rac8,Ke2,Ke6,Ba3,g5,g4,d5,Bf5+,Kf7,Rd1,Rxc4,b3,Rc3,Rd3,Rc2+,Rd2,Rxd2+,Kxd2,Bc8,Bd3,Bd7,f4,gxf4,exf4,e4,Be2,Rg8,f5,d4,Bb2,d3,Bd1,Bxb5,Ke3,Bc6,Bd4,Rb8,Kf4,b5,g5,fxg5+,Kxg5,a4,h6,Bd5,Bh5+,Kg8,Kf6,Bxb3,Ke7,a3,f6,a2', 'f7+,Bxf7,Bxf7#', 'https://lichess.org/training/4bxVy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4bzw3', 'Rapid', 'normative', 1818, 'toEASY', 1680, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,Bxf7+,Ke7,O-O,Qxe5,f4,Qc5,Kh1,Kxf7,c3,Nc6,d4,Qe7,f5,d6', 'Qh5+,g6,fxg6+,Kg7,Rf7+,Qxf7,gxf7', 'https://lichess.org/training/4bzw3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4C2uS', 'Classical', 'arnold123', 1701, 'GorDrA', 1863, 'd4,c6,e4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,Ne5,Nd7,Nxg6,hxg6,c3,Ngf6,Qb3,Qb6,Qc2,Bd6,Be3,Qc7,b4,Bxg3,fxg3,Rxh2,Bf4,Qxf4,gxf4,Rxh1,O-O-O,O-O-O,Qa4,a6,Qc2,Nd5,Qd2,N7f6,Bd3,Rdh8,c4,Rxd1+,Kxd1,Rh1+,Kc2,Ne7,b5,axb5,cxb5,Nf5,Bxf5,gxf5,bxc6,bxc6,Qc3,Kd7,a4,Nd5,Qb3,Rh2,Qg3', 'Rxg2+,Qxg2,Ne3+,Kd2,Nxg2', 'https://lichess.org/training/4C2uS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4C8kE', 'Rapid', 'Kebabkongen', 1834, 'Asi_Hablo_Zaratustra', 1753, 'd4,Nf6,Nf3,e6,c4,d5,Nc3,c5,Bg5,dxc4,e3,Nc6,Bxc4,cxd4,exd4,Be7,O-O,O-O,Re1,Nd5,Bxe7,Ncxe7,Qe2,b6,Rad1,Bb7,Ne5,Rc8,Ba6,Nf4,Qf1', 'Bxg2,Qxg2,Nxg2', 'https://lichess.org/training/4C8kE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4c8OQ', 'Blitz', 'perviz74', 1695, 'Hussein21a', 1695, 'c4,e5,Nc3,Nf6,e4,Bc5,Nf3,d6,Be2,O-O,O-O,Nc6,a3,a6,b4,Ba7,Nd5,Nxe4,Qc2,Nf6,Ng5,h6', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/4c8OQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4CAHO', 'Rapid', 'Narendarmudaliar', 1741, 'aria01384', 1802, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bb5,Bd6,Bxc6+,bxc6,O-O,Ne7,Re1,O-O,c4,Rb8,Nc3,Ba6,cxd5,cxd5,Qa4,Qc8,Bg5,f6,Bc1,c6,b3,Rb4,Qa3,Nf5,Qb2,Nxd4,Nxd4,Rxd4,Nb5,Bb4,Nxd4,Bxe1,Bd2,Bxd2,Qxd2,Re8,Qc2,c5,Nf5,Re2', 'Qxe2,Bxe2,Ne7+,Kf8,Nxc8', 'https://lichess.org/training/4CAHO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4caTZ', 'Rapid', 'krzyso', 1825, 'pionf', 1644, 'd4,Nf6,Nf3,d6,c4,g6,g3,Bg7,Nc3,O-O,Bg2,Nc6,O-O,Bf5,Nh4,Bg4,h3,Bd7,e3,Qc8,Kh2,e5,dxe5,Nxe5,Qe2,Rb8,Nf3,Bc6,a3,Nxf3+,Bxf3,Bxf3,Qxf3,Re8,Bd2,Qe6,Rac1,Qxc4,Ne2,Qd5,Qxd5,Nxd5,b4,Bb2,Rc4,b5,Rc6,Bxa3,Ra1,Bxb4,Bxb4,Nxb4,Rxc7,a6,Nc3,Nd3,Nd5,Nxf2,Nf6+,Kg7,Nxe8+,Rxe8,Kg2,Nd3,Kf3,Nc5,Rd1,Re6,Ra7,Rf6+,Ke2,Ne4,Rc1,Nc5,Ra8,Rf5,Rd8,Rf6,g4,Ne4,Rc6,Re6,Rxa6,h6,Rb6,Rf6,Rxb5', 'Nc3+,Kd2,Nxb5', 'https://lichess.org/training/4caTZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4CETd', 'Classical', 'abdallahmagid', 1947, 'LaserGuy', 1827, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Qd4,Ba5', 'Qe5+,Qe7,Qxa5', 'https://lichess.org/training/4CETd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4CGCA', 'Blitz', 'VikaaaK', 2207, 'dima1953', 2197, 'd4,Nf6,c4,e6,g3,d5,Bg2,Be7,Nf3,O-O,O-O,dxc4,Qc2,c5,Qxc4,cxd4,Qxd4,Nc6,Qa4,Bd7,Rd1,Ne5,Qd4,Nxf3+,Bxf3,Bc6,Bxc6,bxc6,Nc3,Qxd4,Rxd4,Rfd8,Rc4,Nd5,Rxc6,Nxc3,Rxc3,Rd1+,Kg2,Bf6,Rc2,Rad8,a4,h6,Ra3,Re1,Kf3,Rdd1,Be3,g5,Bxa7,h5,a5,Kg7,a6,Kg6,h3,Rh1,Be3,Rxh3,a7,g4+,Ke4,Bg7,a8=Q', 'f5+,Kf4,e5#', 'https://lichess.org/training/4CGCA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4CGJW', 'Classical', 'YGrig', 1856, 'Alishazly231', 1881, 'e4,e5,Nf3,Nc6,Nc3,Bc5,d3,h6,a3,Nf6,Be2,a5,O-O,d6,Nb5,O-O,d4,exd4,Nfxd4,Nxe4,Nxc6,bxc6,Nd4,Bd7,c3,d5,Bg4,f5,Bh3,Qf6,Qf3,Bxd4,cxd4,Qxd4,Rd1,Qf6,Rb1,g5,g4,fxg4,Qxf6,Rxf6,Bg2,Nxf2,Rf1,Raf8,Be3,Nh3+,Kh1,Nf2+,Kg1,Nh3+,Kh1,Nf4,Rbd1,Nxg2,Kxg2,g3,Rxf6,Rxf6,hxg3,Rd6,Bc5,Re6,Rf1,Re2+,Kg1,Rxb2,Rf8+,Kg7,Rd8,Bh3', 'Bd4+,Kf7,Bxb2', 'https://lichess.org/training/4CGJW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4CGSE', 'Rapid', 'steenk', 1787, 'Dtronn', 1710, 'c4,e5,Nc3,Bc5,e3,Nf6,Nge2,Nc6,d4,exd4,exd4,Bb4,g3,Qe7,Be3,d5,cxd5,Nxd5,Bg2,Nxe3,fxe3,Qxe3,Rf1,Nxd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/4CGSE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4cItS', 'Classical', 'ZenitSBG', 1640, 'Warry357', 1657, 'd4,Nf6,c4,c6,Bg5,e6,Nc3,d5,c5,b6,b4,bxc5,bxc5,Qa5,Qd2,h6,Bxf6,gxf6,e3,Nd7,Nf3,f5,Be2,Nf6,Ne5,Bd7,O-O,Ne4', 'Nxe4,Qxd2,Nxd2', 'https://lichess.org/training/4cItS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4cjSz', 'Blitz', 'Mehioch', 1870, 'StrannikTb', 1881, 'd4,e6,c4,Nf6,Nc3,c5,d5,d6,e4,exd5,cxd5,Be7,Bd3,O-O,Nge2,Bg4,f3,Bh5,O-O,Nbd7,Bc2,h6,Nf4,g5,Nxh5,Nxh5,f4,Nxf4,Bxf4,gxf4,Rxf4,Ne5,Qh5,Bg5,Rf5,Kg7,Raf1,a6,a4,Qe7,Ne2,b5,Ng3,bxa4,Bxa4,Rab8,b3,Rb4,Qh3,Rd4,Nh5+,Kh7,Nf6+,Kg7,Rxg5+,Ng6,Qxh6+,Kxh6', 'Rh5+,Kg7,Rh7#', 'https://lichess.org/training/4cjSz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4cjvX', 'Blitz', 'LM BadBishopBoy', 2124, 'kleinmeister', 1790, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,c6,Nf3,e6,d4,Bd6,O-O,O-O,Ne4,Bc7,c3,Nd7,Re1,N7f6,Bd3,Nf4,Bc2,N6d5,g3,Ng6,h4,Bd7,Nfg5,h6,Nf3,f5,Nc5,Qc8,Qd3,Nge7,Nxd7,Qxd7,Ne5,Bxe5,Rxe5,Nf6,Bf4,Nfd5,Bd2,Ng6,Re2,Qf7,Rae1,Rae8,a3,Nf6,Bb3,Nd5,Bxd5,cxd5,c4,f4,Bb4,fxg3,fxg3,Qf3,Re3,Qf2+,Kh1,Nxh4,gxh4,Qxh4+,Kg2', 'Rf2+,Kg1,Qh2#', 'https://lichess.org/training/4cjvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4cNcM', 'Blitz', 'WIM theater', 2176, 'Ivil77', 2147, 'd4,d5,Nf3,Nf6,e3,Bf5,c4,c6,Nc3,e6,Bd3,Bg4,Qb3,Qc8,cxd5,exd5,Ne5,Bf5,Bxf5,Qxf5,Qxb7,Nfd7,Nxd7,Qxd7,Qxa8,Qc7,Bd2,Bb4,Rc1,O-O,Nxd5,Bxd2+,Kxd2,Qa5+,Nc3,Qb6,Ne2,Qxb2+,Rc2,Qb4+,Rc3,Qb2+,Kd3,Qb5+,Rc4,Na6,Qxc6', 'Nb4+,Kd2,Nxc6', 'https://lichess.org/training/4cNcM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4CrPb', 'Classical', 'boxer345', 1754, 'krazzie_ammo', 1797, 'Nf3,Nf6,e4,Nxe4,d3,Nf6,Bg5,Nc6,Be2,b6,O-O,Bb7,Re1,d6,Nbd2,h6,Bxf6,gxf6,Nh4,e6,Bh5,Qd7,Qf3,Be7,c3,O-O-O,Bxf7,Ne5,Rxe5,fxe5,Qh3,Bxh4', 'Bxe6,Qxe6,Qxe6+', 'https://lichess.org/training/4CrPb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Crqn', 'Rapid', 'wowk', 1742, 'efc1985', 1824, 'e4,e5,Nf3,f5,Nc3,d6,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,Nf6,O-O,Be7,exf5,O-O,Qf3,d5,Bf4,d4,Ne4,Nd5,c4,Nxf4,Qxf4,Rxf5,Qd2,Rh5,Ng3,Rh6,Bf5,Bd6,Bxc8,Rxc8,Qxd4,Rxh2,Kxh2', 'Bxg3+,Kxg3,Qxd4', 'https://lichess.org/training/4Crqn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4crtd', 'Blitz', 'CM VictorSaiyajin', 2360, 'KingChessT007', 2489, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,O-O,Be7,c3,O-O,Re1,Bg4,Bg5,Nd7,Bxe7,Nxe7,Nbd2,Kh8,Nf1,f5,exf5,Rxf5,Ng3,Bxf3,gxf3,Rf4,d4,exd4,cxd4,Ng6,Bf1,Nh4,Bg2,Qf6,Nh5,Qg5,Nxf4,Rf8,Kh1,Rxf4,Rg1,Nf6,Qd2,Nd5,Rae1,h6,Re8+,Kh7,Bh3', 'Qxg1+,Kxg1,Nxf3+,Kh1,Nxd2', 'https://lichess.org/training/4crtd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4cTXE', 'Rapid', 'JKnight', 1975, 'Manky_Mollusc', 2226, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bb3,Nd4,c3,Nxb3,Qxb3,h6,Nf3,e4,Qxb5+,Bd7,Qe2,Bd6,d3,O-O,Nd4,Bg4,Qc2,exd3,Qxd3,Re8+,Be3,Nxd5,O-O,Qh4,g3,Qh5,Nd2,c5,Nc2,Rad8,Qa6,Bb8,Bxc5,Nxc3,bxc3,Rxd2,Qc6,Ree2,Ne3,Bf3,Qe8+,Kh7,Qxb8,Qh3,Qf4', 'Rxe3,Qxf3,Rxf3', 'https://lichess.org/training/4cTXE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4cVDa', 'Rapid', 'Tariqriaz786', 1855, 'h6HuXu', 1804, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d3,Bg4,Be2,e6,a3,Nc6,Bd2,Qf5,O-O,Bd6,Kh1,Qh5,g3,O-O-O,Ng1,Bxe2,Qxe2,Qf5,Be3,Ng4,Kg2,h5,Ne4,Be5,c3,h4,h3,Nxe3+,fxe3,Qg6,g4,f5,Nf2,fxg4,Nxg4,Rxd3,Nf3,Bg3,Rad1,Rxd1,Rxd1,Qe4,Qd3,Qxd3,Rxd3,e5,e4,Bf4,b4,b5,Rd5,a6,Nfxe5,Nxe5,Nxe5,Re8,Nd3,Rxe4,Nxf4,Rxf4,Rd4,Rxd4,cxd4,Kd7,Kf3,Kd6,Kg4,Kd5,Kxh4,Kxd4,Kg5,Kc3,h4,Kb3', 'Kg6,Kxa3,Kxg7,Kxb4,h5,c5,h6,c4,h7', 'https://lichess.org/training/4cVDa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4CVyQ', 'Rapid', 'joshua129', 1865, 'phil1428', 1801, 'e4,e6,d4,d5,e5,c5,Nc3,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,Ne7,O-O,Nf5,Qf4,d4,Ne4,Be7,Neg5,Bxf3,Nxf3,Qd5,Bd2,O-O,a3,f6,Rad1,fxe5,Nxe5,Nh4,Qg3,Nf5,Qf4,Ne3,Bxe3,Rxf4,Bxf4,Bd6,Nd3,e5,Bg3,Qc6,Nxe5,Qxc2,Rxd4,Bxe5,Bxe5,Rf8,Rd7,Rf7,Rd8+,Rf8,Rd7,Rf7,Rxf7,Kxf7,h3,g6,Kh2', 'Qe2,Kg1,Qxe5', 'https://lichess.org/training/4CVyQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4CWMa', 'Rapid', 'zahid_015', 1796, 'JaspherRed', 1787, 'e4,e6,Nf3,c5,Bc4,Nc6,d4,cxd4,Nxd4,Bc5,Be3,Qb6,Nxc6,bxc6,Bxc5,Qxc5,Bb3,Ba6,Nd2,d5,Qg4,g6,exd5,cxd5,Qg3,Ne7,O-O-O,O-O,Nf3,Nf5,Qh3,Be2,Rde1,Bxf3,Qxf3,Nd4,Qc3,Nxb3+,cxb3,Qxf2,Qf3,Rac8+,Kb1,Qc2+,Ka1,Rc5,b4,Rc6,b5,Rc5,Rhf1,f5,Qe3,Re8', 'Rc1,Qxc1+,Rxc1', 'https://lichess.org/training/4CWMa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4cwPp', 'Rapid', 'robertg6', 1644, 'Kate-22', 1902, 'e4,e5,d3,c5,a3,Nc6,h3,Nf6,Nf3,d6,Be2,Be7,Nbd2,O-O,c4,h6,O-O,Nd4,Nxd4,cxd4,b4,a6,c5,dxc5,bxc5,Bxc5,Nb3,Bd6,f4,exf4,Bxf4,Bxf4,Rxf4,Qd6,Qf1,Rd8,e5,Qxe5,Qf3,Be6,Nd2,Nd5,Re4,Qg5,Nc4,Nf6,Re5,Qg6,Nb6,Rab8,Rc1,Kh8,Rc7,Kg8,Kh1,Kh8,Na4,b6,Rb7,Rbc8,Nxb6,Rc1+,Kh2,Nd5', 'Nxd5,Bxd5,Rxd5', 'https://lichess.org/training/4cwPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4cXZZ', 'Blitz', 'G_2020', 2081, 'AbelRomkes', 2374, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd3,c5,Ne2,d5,cxd5,cxd4,exd4,Nxd5,O-O,Nc6,Nxd5,exd5,a3,Bd6,Bf4,Bg4,Bxd6,Qxd6,Rc1,Nxd4,f3,Nxe2+,Qxe2,Be6,Rc2,Rac8,Rfc1,Rfd8,Rxc8,Rxc8', 'Rxc8+,Bxc8,Qe8+,Qf8,Bxh7+,Kxh7,Qxf8', 'https://lichess.org/training/4cXZZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4D8gZ', 'Rapid', 'Romek2', 1608, 'M1739Pl4Y', 1604, 'e4,g6,Nf3,c5,Bc4,d6,Nc3,Bg7,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,O-O,Nf6,e5,Ng4,exd6,exd6,Re1+,Ne5,Ne4,d5,Bb3,O-O,Bg5,Qc7,Nf6+', 'Bxf6,Bxf6,Ng4,Be5,Nxe5', 'https://lichess.org/training/4D8gZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4d9KC', 'Rapid', 'balamuralia', 1642, 'v2s', 1643, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,a5,d3,Na7,O-O,b5,Nxb5,Nxb5,Bxb5,c6,Bc4,d5,exd5,cxd5,Bb5+,Ke7,Nxe5,Bb7,Re1,Kf6,Ng4+,Kg6,Ne5+,Kh7,Nxf7,Qb6,Ba4,Bc5,Qf3,Rf8,Bxh6,Nxh6,Ng5+,Kg8,Qxd5+,Bxd5,Re2,Bxf2+,Kh1,Bxg2+,Kxg2,Qb7+,Ne4,Bh4,Bb3+,Kh7,Rg1,Ng4,Kh3,Nf2+,Kxh4,Qe7+,Ng5+,Kh6', 'Rxe7,Rf4+,Kg3', 'https://lichess.org/training/4d9KC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4d9SI', 'Classical', 'puli3ib', 1771, 'JonathanCancelada', 1925, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d6,h3,Na5,Bc2,c5,d4,cxd4,cxd4,Nc6,a3,a5,d5,Na7,b4,a4,Nc3,Bb7,Bd3,Ba6,Bb2,h6,Qd2,Nh7,Rac1,Ng5,Nh2,Nh7,Nf3,Ng5,Nh2,Nh7,Nd1,Bg5,Ne3,Nf6,Nf3,Nh5,Nxg5,Qxg5,Nf1,Nf4,Ng3', 'Nxh3+,gxh3,Qxd2', 'https://lichess.org/training/4d9SI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4DC0l', 'Rapid', 'kqe', 2128, 'Lqlama', 1997, 'd4,d6,c4,Nf6,Nc3,Bf5,Nf3,g6,Bg5,Bg7,Qd2,h6,Bf4,O-O,Bxh6,Nh7,Bxg7,Kxg7,e4,Bg4,Be2,Nc6,h3,Bxf3,Bxf3,e6,h4,Qf6,O-O-O,Rad8,Kb1,g5,hxg5,Nxg5,Rh5,Kg6,Rdh1,Rh8,e5,dxe5,Be4+,Nxe4,Nxe4,Rxd4,Rg5+,Qxg5', 'Qxg5#', 'https://lichess.org/training/4DC0l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4dj8d', 'Classical', 'antomen', 1647, 'gospodinedin', 1715, 'd4,d5,c4,Bf5,cxd5,Qxd5,Nc3,Qa5,Bd2,Qb4,e4,Bg6,Nf3,Qxb2,Ne5,Bxe4,Nxe4,Qxd4,Nxf7,Qxe4+,Be3,Kxf7,Qb3+,Ke8,Rd1,Nd7,Rd4,Qc6', 'Bb5,Qxb5,Qxb5', 'https://lichess.org/training/4dj8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4djLa', 'Classical', 'Tinnnu', 1703, 'mojtaba2233', 1664, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bb4,O-O,Bxc3,dxc3,Nxe4,Qd5,Nd6,Bb3,Qf6,Bg5,Qf5,Rfe1,e4,Bd2,O-O,Qxf5,Nxf5,Rxe4,d6,Nd4,Bd7,g4,Nh4,Re7,Bxg4,Nxc6,bxc6,Be3,Nf5,Rxc7,c5,Bf4,Rad8,Rxa7,d5,Rd1,Bxd1,Ra5,c4,Ba4,Ra8,Rxa8,Rxa8,Bc6,Rd8,Bg5,Rd6,Ba4,f6,Bf4,Re6,Bd7,Re1+,Kg2,Nh4+,Kh3,Ng6,Bd2,Re2,Be3,Rxc2,Ba4,Rc1,Bxc1,Bxa4,a3,Nf4+,Bxf4,g5,Be3,Kg7,Kg4,Kg6,h3,h5+,Kg3,Kf5,f4,Ke4,Bc1,gxf4+,Bxf4', 'h4+,Kxh4,Kxf4', 'https://lichess.org/training/4djLa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4dJP8', 'Blitz', 'Masterleonard', 1970, 'FM labestia2017', 2527, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c4,Nf6,cxd5,Nxd5,Be2,Bg4,Nc3,e6,Nxd5,Qxd5,O-O,Be7,Be3,O-O,h3,Bh5,Ne5,Bxe2,Nxc6,Qxc6,Qxe2,Rac8,Rac1,Qd5,b3,Bf6,Rxc8,Rxc8,Rd1,h6,Qd3,a6,Rd2,Rc1+,Rd1,Rc6,Rd2,Rd6,Qc4,Kh7,Qxd5,Rxd5,f4,Kg6,g4,h5,Kf2,Be7,Kf3,Rd7,Ke4,Rd5,Rc2,Rd7,Rc8,hxg4,hxg4,f5+,gxf5+,exf5+,Ke5', 'Bf6+,Ke6,Re7+', 'https://lichess.org/training/4dJP8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Dn7P', 'Rapid', 'zashem', 2027, 'Arseniy1915', 1965, 'd4,e6,Bf4,b6,e3,Bb7,Nd2,c5,c3,cxd4,exd4,Nf6,h3,Be7,Ngf3,Nh5,Bh2,O-O,Ng1,Nf6,Ngf3,Ne4,Rg1,Nxd2,Nxd2,d5,Nf3,Bd6,Ne5,Nc6,Bd3,Qc7,f4,f6,Nxc6,Bxc6,g3,e5,fxe5,fxe5,Qc2,h6,dxe5,Rae8,O-O-O,Bxe5,Kb1,Bd7,h4,Bg4,Bh7+,Kh8,Rxd5,Bf6,Bf5,Bxf5,Rxf5,Be5,Rxf8+,Rxf8,Qe2,Qc5,g4,Bxh2,Qxh2,Rf2,Rg2,Rf1+,Kc2,Qe3,Rd2,Qe4+,Rd3,Qxg4,Qd2', 'Qa4+,b3,Qxa2#', 'https://lichess.org/training/4Dn7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4dobV', 'Blitz', 'IM Schaefchen', 2668, 'bob_2004', 2555, 'd4,d5,c4,e6,Nf3,Nf6,g3,dxc4,Bg2,b5,Ne5,Nd5,e4,Nf6,a4,c6,O-O,Bb7,b3,cxb3,Qxb3,b4,a5,a6,Nd2,Qxd4,Ndc4,Qxa1,Bb2,Qxf1+,Kxf1,Nbd7,Nb6,Nxb6,axb6,a5,Qa4,Ba6+,Ke1,Bb5,b7,Rb8,Qxa5,Bd6,Nxf7,Kxf7,e5,Be7,exf6,gxf6,Qc7,Rhd8,Bf3,Bd3,Bxc6,Kf8,Qf4,Kg7,h4,Bg6,g4,e5,Qe3,h5,g5,Rd6,Bf3,e4,gxf6+,Bxf6,Bxf6+,Rxf6,Qc5,Rxb7,Bxh5,Bxh5,Qxh5,b3,Qg5+,Kf7', 'Qd5+,Kf8,Qxb7', 'https://lichess.org/training/4dobV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4dOmp', 'Rapid', 'adamsky', 1902, 'DebayanRay', 1706, 'd4,c5,d5,d6,c4,Nf6,Nc3,g6,e4,Bg7,Nf3,e6,Bd3,exd5,exd5,Qe7+,Be3,Bg4,O-O,O-O,Re1,Qc7,Nb5,Qd8,Bg5,a6,Nc3,Nbd7,h3,Bxf3,Qxf3,h6,Bf4,Nb6,Qe3,Nh5,Bxh6,Re8,Qd2,Nf6,Bg5,Qd7,a4,a5,Nb5,Rxe1+,Rxe1,Re8,Bxf6,Rxe1+,Qxe1,Bxf6,b3,Kg7,Qe4,Nc8,h4,Ne7,h5,b6,hxg6,Nxg6,f4,Qg4,Nxd6', 'Bd4+,Kf1,Qd1+,Qe1,Qxd3+', 'https://lichess.org/training/4dOmp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4dPKs', 'Rapid', 'hossein3683', 1877, 'Pessoaz1', 1846, 'e4,d5,exd5,Nf6,Nc3,e6,dxe6,Bxe6,d3,Nbd7,Be2,Bc5,h3,c6,Nf3,O-O,O-O,h6,Be3,Bxe3,fxe3,Qb6,Qd2,Nd5,Nxd5,Bxd5,c3,Rad8,d4,c5,a3,Nf6,Rab1,cxd4,cxd4,Ne4,Qe1,Qg6,Bd3,Rfe8,Ne5,Qg5,Rf4,Rxe5,dxe5,Qxe5,Bxe4,Bxe4,Rd1,Re8,Rd4,f5,Qb4,Rc8,Qd6,Qe8,Rf1,Kh7,Qg3,Rc2,Rf2,Rc1+,Kh2,Rc6,Rfd2,Rg6,Qc7,Qb5,Rd7,Qf1,Qf4', 'Rxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/4dPKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4DqCj', 'Classical', 'JushBJJ2', 1652, 'jmpareja', 1680, 'e4,c5,c3,g6,d4,cxd4,cxd4,Bg7,Nc3,d6,Nf3,a6,Bf4,Bg4,Be2,Nc6,d5,Bxf3,Bxf3,Nd4,O-O,e5,Be3,Ne7,Bxd4,exd4,Ne2,Qb6,Qd2,O-O,Rab1,Rac8,Rfd1,f5,Nxd4,fxe4,Bxe4,Rc4,Ne6,Rxe4,Nxf8,Kxf8,Qd3,Rf4,Rd2,Bd4,Qg3,Nxd5,Rbd1,Kg7,Kf1,Ne3+,Kg1,Rxf2,Qxf2,Nxd1', 'Qxd4+,Qxd4+,Rxd4', 'https://lichess.org/training/4DqCj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Dqns', 'Rapid', 'fastandmove', 1671, 'Self_Seeker', 1723, 'e4,c5,f4,Nc6,Nf3,e6,Bb5,Qb6,Be2,d5,e5,Bd7,Nc3,c4,Na4,Qc7,Nc3,Nge7', 'Nb5,Qb6,Nd6+', 'https://lichess.org/training/4Dqns');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4drwt', 'Classical', 'Kraparov75', 2055, 'Nikolay_Nikolaevich', 1895, 'd4,d5,c4,c6,e3,Nf6,Nf3,h6,Bd3,Be6,c5,Bg4,Be2,Nbd7,Nc3,e5,O-O,e4,Nd2,Bf5,b4,Be7,b5,O-O,a4,Nh7,Ba3,Re8,bxc6,bxc6,Bb4,Ng5,a5,a6,Na4,Qc8,Rb1,Qc7,Nb6,Nxb6,cxb6,Qb7,Qa4,Bd7,Bxe7,Rxe7,Qa3,Re6,Nb3,Qc8,Nc5,Rg6,Kh1,Rb8,Nxa6,Rb7,Nc5,Rb8,a6,Bg4,b7,Qf5,Bd1,Nh3,Qa2,Bf3,Bxf3,exf3,g3,Ng5,a7,Rf8,b8=Q,Rxb8,axb8=Q+,Kh7,Qaa8,Rf6,Qc8,Ne6,Nd7,Qh3,Rg1,Rf5,Ne5', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/4drwt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Dryd', 'Rapid', 'Konakri', 1650, 'PauloPry', 1690, 'e4,a6,Nf3,b5,Nc3,Bb7,g3,b4,Nd5,e6,Nf4,Bxe4,d3,Bb7,Bg2,Nf6,Be3,Bd6,O-O,Ng4,Bd2,a5,h3,Nf6,a3,O-O,axb4,axb4,Rxa8,Bxa8,c3,bxc3,Bxc3,Nd5,Nxd5,Bxd5,Qd2,Nc6,Re1,Qa8,Qe3,Ne7,Qg5,f6,Qg4,Nf5,Nh4,Nxh4,Bxd5,Qxd5,Qxh4,Qxd3,Re3,Qd1+,Kh2,Qc2,Kg2,Bc5,Rf3,e5', 'Qc4+,Rf7,Qxc5', 'https://lichess.org/training/4Dryd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Dt0k', 'Blitz', 'bouncer237', 2299, 'captain-bluntschli', 2304, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Bg3,Ne4,Bd3,O-O,Nbd2,f5,c4,c6,O-O,b6,cxd5,exd5,Rc1,Bb7,Qb3,Kh8,Bxe4,fxe4,Bxd6,Qxd6,Ne5,Nd7,f4,exf3,Ndxf3,c5,Nxd7,Qxd7,Ne5,Qe7,Qa3,a5,Qb3,Qe6,Qb5,Rxf1+,Rxf1,Ba6,Qxa6,Rxa6', 'Rf8+,Qg8,Nf7#', 'https://lichess.org/training/4Dt0k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Du2V', 'Rapid', 'prodigyguy', 1996, 'wael12345', 1919, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,cxd4,cxd4,Qb6,Nc3,Nge7,a3,Nf5,Na4,Qa5+,Bd2,Qd8,Bb5,Bd7,Bxc6,Bxc6,g4,Bxa4', 'Qxa4+,Qd7,Qxd7+,Kxd7,gxf5', 'https://lichess.org/training/4Du2V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4dWfc', 'Rapid', 'cabernet14', 1887, 'SEGPRO', 1928, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Bc4,Qf6,Qb3,b6,Nc3,c6,O-O,Bd6,Be3,Ne7,a4,O-O,a5,b5,Be2,Ng6,Rad1,Bc7,Qb4,Nf4,Bxf4,exf4,Bf3,Be5,Qc5,Na6,Qa3,b4,Qb3,bxc3,bxc3,Bxc3,Qc4,Nb4,e5,Qxe5,Rb1,c5,Bxa8,Rxa8,Qb5,Nxc2,Qb7,Re8,Qxa7,Bb4,a6,Nd4,Qd7,f3,a7,fxg2,Kxg2,Qg5+,Kh1,Qe5,Ra1,Qe4+', 'f3,Qa8,Qxe8+', 'https://lichess.org/training/4dWfc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4DX3x', 'Blitz', 'DImass2000', 2027, 'vassos', 2041, 'd4,e6,c4,f5,Nf3,Nf6,g3,b6,Bg2,Bb7,O-O,Be7,Nc3,O-O,e3,d6,b4,Ne4,Nxe4,Bxe4,Qb3,Kh8,Bb2,Bf6,Rac1,Nd7,a4,a5,b5,Qe8,Rfd1,g5,d5,Bxf3,Bxf3,e5,Qc2,e4,Bg2,Nc5,Rd2,Bxb2,Qxb2+,Kg8,Qc2,Qg6,f3,Rae8,Rf1,exf3,Rxf3,g4,Rf4,Rxe3,Rdf2,Re1+,Rf1,Rxf1+,Bxf1,Ne4,Bd3,Re8,Bxe4,Rxe4,Rxe4,fxe4,Kf2,Qf5+,Ke3,Qf3+,Kd4,e3,Kd3,Kf7,Qe2,Qxe2+,Kxe2,Kf6,Kxe3,Ke5,Kd3,Kf5,Kd4,h5,Kd3,Ke5,Ke3,Kf5,Kd4,h4,Ke3,hxg3,hxg3,Ke5,Kd3,Kf6,Kd4,Kf5,Ke3,Ke5,Kd3,Kf5,Kd4,Kg5', 'Ke4,Kg6,Kf4,Kf6,Kxg4', 'https://lichess.org/training/4DX3x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4e23x', 'Rapid', 'BlunderInducer', 1860, 'mfacundoli', 1792, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nf6,Bd3,Bxd3,Qxd3,e6,Ne4,Be7,Bf4,Nbd7,Nd6+,Bxd6,Bxd6,Qa5+,c3,Qd5,Bh2,Qxh5,O-O-O,Qd5,Kb1,b5,Ne5,Ne4,Qf3,Ndf6,Rhe1,O-O,g4,a5,Bf4,g5,Bc1,a4,Rh1,Kg7,a3,Nd7,Nxd7', 'Nd2+,Bxd2,Qxf3', 'https://lichess.org/training/4e23x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4EaMM', 'Rapid', 'M_Sameh', 1910, 'Kloppo09', 1901, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nc6,Nf3,Nf6,Be2,e6,O-O,cxd4,cxd4,Be7,Nc3,Qd7,Bg5,O-O,Re1,a6,Rc1,b5,a3,Bb7,Bd3,Nxd4,Nxd4,Rfd8,Bxf6,Bxf6,Bxh7+,Kxh7,Qh5+,Kg8,Nb3,Rac8,Re3,Bxc3,bxc3,Qc6,Rg3,Qe4,Nc5,Rxc5,Qxc5,Qe2,Rf1', 'Rd1,Rxg7+,Kxg7,Qd4+,Rxd4', 'https://lichess.org/training/4EaMM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ebiY', 'Classical', 'Gahool', 1800, 'dragon_ftw', 1751, 'e4,e5,f4,exf4,Nf3,Be7,h4,Nf6,d3,O-O,Bxf4,Nh5,Qd2,Nxf4,Qxf4,d6,Nc3,f5,O-O-O,Nc6,d4,fxe4,Qxe4,Bf5,Qd5+,Kh8,Bd3,Nb4,Qb3,Nxd3+,cxd3,Rb8,Ne4,Qd7,Neg5,Bf6,h5,h6,Ne4,Be6,d5,Bf7,Nxf6,gxf6,Qc4,c6,Qf4,Kh7,Nd4,Bxd5,Nf5,Rbe8,Qxh6+,Kg8,Qg6+,Kh8,h6,Qh7', 'Qg7+,Qxg7,hxg7+', 'https://lichess.org/training/4ebiY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4EeSL', 'Blitz', 'NM LentoViolento2020', 2341, 'Timalo', 2175, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,b6,cxd5,exd5,Bxf6,gxf6,Qb3,Be6,e3,Bd6,Nf3,c6,Bd3,h5,h4,b5,Qc2,Rg8,g3,Bg4,Nh2,Qd7,Nxg4,Qxg4,Qe2,Qe6,O-O-O,a5,Kb1,Na6,Nxb5,cxb5,Bxb5+,Ke7,Bxa6,Bxg3,fxg3,Rxg3,Rhe1,Rxa6,Qxh5,Rxe3,Rxe3,Qxe3,Qxd5,Re6,Qc5+,Ke8,Qc8+,Ke7,d5,Rd6,Qc7+,Rd7,Qc1,Qxc1+,Kxc1,Kd6,h5,Rd8,Kc2,Rh8,Rh1,Kxd5,Kd3,f5,b3,Ke5,Ke3,f4+,Kf3,f5,a3,Rh6,b4,axb4,axb4,Rb6', 'h6,Rxb4,h7', 'https://lichess.org/training/4EeSL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4EFHM', 'Rapid', 'AlvaroArango77', 1700, 'Cubatigre', 1638, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,d3,Be6,Nxe6,fxe6,O-O,Bc5,Qg4,Qf6,Nd2,O-O-O,Nf3,Nd4,Bg5,Nxf3+,gxf3,Qf7,Bxd8,Rxd8,Rfe1,h5,Qg3,Bd6,Rxe5,Bxe5,Qxe5,Kb8,Re1,Qxf3,Qxe6,Nf4,Qe4', 'Nh3+,Kf1,Qxf2#', 'https://lichess.org/training/4EFHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Ehz6', 'Rapid', 'mreaglca', 1841, 'Goroev', 1733, 'd4,d5,c4,e5,e3,exd4,exd4,Nf6,Nc3,dxc4,Bxc4,Bb4,Ne2,O-O,O-O,Bd6,h3,Nc6,Bg5,h6,Bxf6,Qxf6,Ne4,Qg6,Nxd6,cxd6,d5,Bxh3,Ng3,Bxg2,Kxg2,Ne5,Bb3,f5,Bc2,Qg5,Qh5,Qd2,Bxf5,Qxd5+,Be4,Qd2,Rad1,Qxb2,Nf5,Rae8,Rxd6,Nf7,Nxg7,Rxe4,Rg6,Kh7,Nf5,Qd2,Rg7+,Kh8,Rh1,Rf4', 'Qxh6+,Nxh6,Rxh6#', 'https://lichess.org/training/4Ehz6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4EKwQ', 'Rapid', 'jurek02', 1836, 'Volkero', 1876, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be2,g6,O-O,Bg7,f3,O-O,Be3,a6,a3,Qc7,Qd2,b5,Rad1,Bd7,Nd5,Nxd5,exd5,Nxd4,Bxd4,Bxd4+,Qxd4,Qxc2,Rd2,Qc5,b4,Qxd4+,Rxd4,Rac8,Rfd1,Rc3,R1d3,Rfc8,Rxc3,Rxc3,Rd3,Rc2,Kf2,Bf5,Re3,Kf8,g4,Bd7,h4,e6,dxe6,fxe6,Kg3,d5,Bd1,Rc8,Bb3,d4,Rd3,e5,Bd5,Rc3,Be4,Ke7,f4,exf4+,Kxf4,Rxd3,Bxd3,Kf6', 'g5+,Ke7,Ke5', 'https://lichess.org/training/4EKwQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4el9S', 'Blitz', 'lescac', 1663, 'FwamingDragon', 1693, 'e4,d5,exd5,e6,dxe6,Bxe6,Nf3,Nf6,Nc3,Bd6,b3,c6,Bb2,Qc7,h3,Nbd7,Be2,O-O-O,a4,h6,Nd4,Bd5,Nxd5,Nxd5,c4,Nf4,O-O,g5,Bf3,Rdg8,Nf5,Bc5,Bxh8,Rxh8,d4,Bb4,c5,h5,Ne7+,Kb8,d5,g4,hxg4,hxg4,Bxg4', 'Ne2+,Qxe2,Qh2#', 'https://lichess.org/training/4el9S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4em9l', 'Rapid', 'Charcoal-Cobra', 1672, 'hkragelund', 1623, 'e3,d5,d4,Nf6,Nc3,g6,Bd3,Bg7,f3,Nc6,e4,Nxd4,exd5,Nxd5,Bb5+,Nxb5,Nxb5,c6,Nc3,Bxc3+,bxc3,Nxc3', 'Qxd8+,Kxd8,Bb2,f6,Bxc3', 'https://lichess.org/training/4em9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4emQx', 'Rapid', 'mitkosavov', 1808, 'jaykishangajipur12', 1880, 'e4,c6,Qf3,d5,e5,d4,d3,e6,Be2,c5,Qg3,Nc6,f4,g6,h4,Bg7,h5,Nh6,hxg6,fxg6,Qf2,Bd7,a3,Nf5,g4,Nfe7,Bd2,b5,b4,c4,dxc4,bxc4,Bxc4,a6,Nf3,Rc8,Bd3,Qb6,Ng5,a5,b5,Na7,a4,Nd5,Nxh7,Nb4,Bxg6+,Kd8,Na3,Be8,Bxe8,Kxe8,c3', 'Nd3+,Ke2,Nxf2', 'https://lichess.org/training/4emQx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ENrz', 'Rapid', 'retro13', 1698, 'Saurroc', 1615, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Qe7,cxd4,d6,Be2,dxe5,dxe5,Nxe5,Nxe5,Qxe5,O-O,Bd6,f4,Qc5+,Kh1,Ne4,Bf3,Nf2+,Rxf2,Qxf2,Nc3,O-O,Ne4,Qb6,Bd2,Bf5,Nc3,Rad8,Nd5,Qxb2,Bc3,Qb5,a4,Qd3,Qe1,Rfe8,Qg3,f6,Nxf6+,Kf7,Bd5+,Kf8', 'Nxh7+,Ke7,Qxg7#', 'https://lichess.org/training/4ENrz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4EQwx', 'Rapid', 'rscarlettb', 1806, 'ssehc90', 1745, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nd4,Nxd4,exd4,O-O,c6,c3,dxc3,bxc3,d5,Re1,dxe4,Rxe4+,Be6,d4,Nf6,Bg5,Be7,Re1,O-O,Nd2,Bd5,Qe2,Re8,c4,b5,cxd5,bxa4,dxc6,Qxd4,Rad1,Bb4,Ne4,Rxe4', 'Rxd4,Rxe2,Rxe2', 'https://lichess.org/training/4EQwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4EsqA', 'Rapid', 'Bjarne_V', 1941, 'Chessinpol', 1978, 'e4,Nc6,d4,d5,e5,f6,f4,Bf5,Nf3,Qd7,Bd3,O-O-O,Bxf5,Qxf5,Nc3,e6,a3,Nge7', 'Nh4,fxe5,Nxf5', 'https://lichess.org/training/4EsqA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4eTcb', 'Classical', 'Skino86', 1718, 'Clodovio', 1655, 'Nf3,d5,g3,f6,Bg2,e5,d3,Bd6,c4,Bg4,h3,Be6,cxd5,Bxd5,Nc3,Bc6,O-O,Nd7,a3,Ne7,b4,O-O,b5,Bxf3,Bxf3,Rb8,Qb3+,Kh8,a4,Nc5,Qc2,Nf5,e3,b6,Ne4,Nxe4,Bxe4,Nh6,Ba3,Qd7,Bxd6,cxd6,Bg2,Rbc8,Qd2,d5,Rac1,Nf7,Rc2,Rxc2,Qxc2,Rc8,Qd2,Ng5,Rc1,h6,Rxc8+,Qxc8,Bxd5,Qxh3,Bg2,Qf5,f4,Ne6,Be4,Qg4,Kg2,h5,fxe5,h4,Qf2,h3+,Kh2,Nc5,exf6,Nxe4,fxg7+,Kxg7,dxe4,Qxe4,Kxh3,Qxa4,Qb2+,Kf7,g4,a5,g5,Qc4,Qf6+,Kg8,Qxb6,Qf1+,Kg4,Qg2+,Kf5,Qd5+,Kg6', 'Qf7+,Kh6,Qh7#', 'https://lichess.org/training/4eTcb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4EYcK', 'Blitz', 'GM Arnelos', 2725, 'Viscam24AFC', 2351, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Be7,O-O,O-O,Re1,c5,d5,exd5,Nh4,Ne4,cxd5,Bxh4,Bxe4,f5,Bg2,Bf6,Qd3,g6,d6,Bxg2,Kxg2,Nc6,Nc3,Nb4,Qd1,Qc8,a3,Qb7+,f3,Bxc3,bxc3,Nd5,c4,Nf6,Bb2,Qc6,Qd3,Rae8,Rad1,Re6,Rd2,Rfe8,Kf2,Rf8,Kg2,Rfe8,Kf1,Ng4,Qc3,Nf6,Kf2,Rf8,Red1,Kf7,Qc2,Ke8,Bxf6,Rfxf6,Rd5,Rxd6,Qc3,Rxd5,Rxd5,Kd8,Qe5,Kc8,Qe7,h5,h4,Re6,Qf7,Rf6,Qg8+,Kc7,Qe8,Re6,Qf7,Qa4,Qg7,Qc6,Qc3,a6,Qd3,a5,Qc3,Qa4,Qd2,Qc6,Qf4+,Kb7,Qg5,Qa4,Qd8,Rxe2+', 'Kxe2,Qxc4+,Rd3', 'https://lichess.org/training/4EYcK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4F9Ee', 'Rapid', 'gualanday', 1971, 'JRCLARO', 2018, 'd4,d5,e3,Nf6,f4,Bf5,c3,e6,Bd3,Bxd3,Qxd3,a6,Nd2,c5,Ngf3,Nc6,O-O,cxd4,exd4,Be7,Ne5,O-O,Nxc6,bxc6,f5,Bd6,fxe6,fxe6,Nf3,Ne4,Be3,Qc7,Rae1,Rf7,g3,Rf6,Bg5,Rg6,Rxe4,dxe4,Qxe4,Bxg3,hxg3,Qxg3+,Kh1,Rxg5,Nxg5,Qxg5,Qxe6+,Kh8,Qxc6,Rd8,Qf3,h6,Qf4,Qh5+,Kg2,Re8,Rf2,Qd5+,Qf3,Qg5+,Qg3,Qd5+,Kh2,Qh5+,Qh3,Qd5,Rg2,Re1,a3,Qf7,Qg4,Rf1,Re2,Qc7+,Kg2,Qf7,Re8+,Kh7,Qe4+,Rf5,Re5', 'Qg6+,Kh2,Rh5+,Rxh5,Qxe4', 'https://lichess.org/training/4F9Ee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4fAMf', 'Classical', 'MichelBogaert', 1733, 'ghsaeed', 1717, 'd4,d5,c4,e6,Nc3,Bb4,Qb3,Nc6,cxd5,exd5,e3,a6,Nf3,Nf6,Bd3,Qe7,O-O,Bg4,Be2,O-O,Nxd5,Nxd5,Qxd5,Rad8,Qg5', 'Qxg5,Nxg5,Bxe2', 'https://lichess.org/training/4fAMf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FaYR', 'Blitz', 'scooly', 1578, 'toddimir', 1597, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,h3,Bxf2+,Kxf2,Nxe4+,Kg1,Qd4+,Kh2,Qd6+,Kg1,Ng3,Rh2', 'Qd4+,Be3,Qxe3#', 'https://lichess.org/training/4FaYR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4fBLX', 'Rapid', 'Let-s-Rock', 1893, 'Rudolfodessa', 1915, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Nd4,h5,d3,Bh6,Nf5,Qf6,Bd2,Rh7,Bc3,Qg6,Nd2,d6,Nxh6,Qxh6,Qe2,Nc6,O-O-O,Be6,Kb1,O-O-O,d4,d5,e5,Nge7,Nb3,Nf5,Bd2,Ng3,Qb5,Nxh1', 'Nc5,Rdh8,Qxb7+', 'https://lichess.org/training/4fBLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4fCge', 'Classical', 'zacharIv', 2046, 'roslag-97-2-vin-100', 1980, 'd4,c6,Bf4,d6,e3,Nf6,c4,Nbd7,Nc3,Qc7,Nf3,e5,Bg3,Be7,Be2,Nh5,O-O,Nxg3,fxg3,O-O,e4,Nf6,d5,Qb6+,Kh1,Ng4,Qe1,Ne3,Rg1,Nc2,Qd2,Nxa1,Rxa1,Bg4,a4,Bxf3,Bxf3,c5,a5,Qd8,a6,b6,Nb5,Bg5,Qc3,Qd7,h3,g6,b4,Bh6,g4,Bf4,bxc5,bxc5,Bd1,Qe7,g3,Bh6,Kg2,Rfd8,Rb1,Qg5,Rb3,Qd2+,Qxd2,Bxd2,Rf3,Kg7,Rb3,Ba5,g5,h6,gxh6+,Kxh6,Rf3,Kg7,h4,Bb6,Rf1,Rd7,Bg4,Rdd8,h5,g5,Bf5,f6,g4,Kf7,Bg6+,Ke7,Rh1,Rh8,Bf5,Rh6,Rb1,Rb8,Kf3,Rhh8,Rh1,Rh6,Ke2,Ra8,Kd3,Rb8,Kc2,Ra8,Kb3,Rb8,Ka4,Ra8,Rb1,Rb8,Rb3,Rhh8,Rb1,Rh6,Rf1,Ra8,Be6,Rb8,Rf5,Ra8,Kb3,Rb8,Kc2,Ra8,Rf1,Rb8,Kd3,Ra8,Kc2,Rb8,Kd3,Ra8,Kc3,Rb8,Kd2,Ra8,Kd3,Rb8,Kc2,Ra8,Kb3,Rb8,Ka4,Ra8,Bf5,Rb8,Bg6,Ra8,Nxd6,Kxd6,Rxf6+,Kd7', 'Bf5+,Ke7,Rxh6', 'https://lichess.org/training/4fCge');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Fcwa', 'Blitz', 'EFG001', 1732, 'antonidesosa', 1934, 'd4,Nf6,Nf3,g6,Bf4,Bg7,h3,d6,e3,O-O,c4,Nc6,d5,Nb8,Nc3,Nbd7,Be2,a6,a4,e5,dxe6,fxe6,O-O,e5,Bg3,Nh5,Bh2,Nc5,b4,e4,Nd4,Nd3,Bxd3,exd3,Qxd3,c5,bxc5,dxc5,Nd5,cxd4,exd4,Be6,Nc7,Bf5,Qb3,Rc8,c5+,Kh8,Ne6,Bxe6,Qxe6,Nf4,Bxf4,Rxf4,Rad1,Rc6,Qe3,Rxd4,Rxd4,Bxd4,Rd1,Bxe3,Rxd8+,Kg7,fxe3,Rxc5,Rd7+,Kf6,Rxb7,h5,Rb6+,Kf5,Rxa6,g5,Kf2,Rc2+,Kf3,g4+,hxg4+,hxg4+,Kg3,Rc3,Kf2,Rc2+,Kg3,Rc3,Kf2,Rc2+,Ke1,Rxg2,Ra8,Ra2,a5,g3,Kf1,Kg4,a6,Kf3,Rf8+,Kxe3,Rf6,Ke4,Kg1,Ke5,Rb6,Kf4,Rg6,Kf5,Rb6,Kg4,Rb4+,Kh3,Rb6', 'Ra1+,Rb1,Rxb1#', 'https://lichess.org/training/4Fcwa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4fh8v', 'Classical', 'LFC_08_isaiah', 1722, 'Lotramthakur', 1741, 'Nf3,d5,g3,c5,d3,Nf6,Bg2,Nc6,O-O,e6,Nbd2,d4,c3,e5,Nc4,Bd6,Qa4,O-O,cxd4,exd4,Nfd2,Be5,Bxc6,Bxg3,fxg3,Bh3,Bxb7,Bxf1,Bxa8,Qxa8,Kxf1', 'Qh1+,Kf2,Ng4#', 'https://lichess.org/training/4fh8v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FIvC', 'Blitz', 'Denorst', 1947, 'roslinde', 1816, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nf3,Ne7,O-O,Bg4,h3,Bh5,c4,dxc4,Bxc4,Nbc6,Be3,Qd7,Nbd2,O-O-O,Qb3,Na5,Qb5,Nxc4,Qxc4,f6,Rfc1,g5,b4,Nc6,d5,Nxb4,a3,Na6,Bxa7,Bg6,Nd4,Be5,N2f3,Bxd4,Nxd4,Qd6,Nb5,Qxd5', 'Qxc7+,Nxc7,Rxc7#', 'https://lichess.org/training/4FIvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FIYr', 'Classical', 'S-V-V', 1824, 'Behnoodiiii', 2159, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,d3,g6,c3,Bg7,Bg5,O-O,Qd2,Nc6,Bh6,d5,Bxg7,Kxg7,e5,Ng4,Re1,d4,h3,Nh6,Na3,Rad8,c4,e6,Nb5,a6,Nd6,Nxe5,Nxe5,Qxd6,Nf3,Rfe8,a3,e5,b4,cxb4,Qxb4,Qxb4,axb4,Kf6,Ra5,Rd6,Raxe5,Rxe5,Rxe5,Nf5,c5,Re6,Rxe6+,fxe6,g4,Ne7,Nxd4,Nc6,Nxc6,bxc6,f4,e5,fxe5+', 'Kxe5,Kf2,Kd4,Ke2,Kc3', 'https://lichess.org/training/4FIYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FmHa', 'Rapid', 'francy56', 1637, 'parichessplayer', 1689, 'e4,e5,Nf3,Bc5,Bc4,Nc6,O-O,Nf6,c3,d6,d4,exd4,cxd4,Bb6,Bg5,h6,Bh4,g5,Bg3,Nxe4,Re1,Bf5,Nc3,Qe7,Nxe4,Bxe4,Nd2,f5,f3,Bxd4+,Bf2,Bxf2+,Kxf2,d5,Bxd5,Qc5+,Re3,Qxd5,fxe4,fxe4,Rxe4+,Ne7,Qh5+,Kd8,Rd1,Rf8+,Kg1,Qc5+,Kh1,Kc8,Nb3,Qc2,Rxe7,b6,Re8+,Rxe8,Qxe8+,Kb7,Qd7,Re8,Rc1', 'Qxc1+,Nxc1,Re1#', 'https://lichess.org/training/4FmHa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FMn8', 'Rapid', 'zashem', 1939, 'danko55', 1716, 'd4,d5,Bf4,Nc6,e3,a6,h3,h6,Nf3,Nf6,Nbd2,Bf5,c3,e6,g4,Bg6,Rg1,Qd7,Qa4,b5', 'Bxb5,axb5,Qxa8+', 'https://lichess.org/training/4FMn8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FnC0', 'Rapid', 'eSkyline', 1602, 'Marwanjkj101', 1633, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb3,Nxb3,axb3,Nxd5,Qe2,Qxg5,d4,Qxg2,Qxe5+,Ne7,Rf1,Bh3,Nd2,O-O-O,Rxa7,Kb8,Qa5,b6,Qa4,Nc6', 'Ra8+,Kb7,Qa6#', 'https://lichess.org/training/4FnC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FrHj', 'Rapid', 'RoqueB', 1706, 'chessninja6', 2155, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,a6,cxd5,cxd5,e3,Nc6,a3,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Bd6,Bg5,h6,Bxf6,Qxf6,O-O,h5,h4,Rh6,Ng5,Rg6,Ne2,Kd7,b4,Rxg5,hxg5,Qxg5,f4,Qg4,Rf3,h4,Nc3,Rh8,Kf2,Be7,Na4,h3,gxh3', 'Bh4+,Ke2,Qg2+', 'https://lichess.org/training/4FrHj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FrsN', 'Rapid', 'osvaldo123', 1907, 'Ovoko', 1778, 'e4,c6,d4,d5,exd5,cxd5,h3,e6,Nf3,Bd6,Bd3,Bd7,O-O,Nf6,Bg5,h6,Bxf6,Qxf6,c3,a6,Re1,O-O,Qe2,Bc6,Nbd2,Qd8,Ne5,Bxe5,Qxe5,Nd7,Qe3,Nf6,Nf3,Nd7,Re2,Re8,Rae1,Qa5,a3,Qc7,Qd2,Qb6,Ne5,Nxe5,Rxe5,Rac8,R1e2,Qb3,Qf4', 'Qd1+,Re1,Qxd3', 'https://lichess.org/training/4FrsN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FsTO', 'Blitz', 'LLJ7', 1785, 'Icenjk', 1707, 'd3,g6,Nf3,Bg7,g3,Nf6,Bg2,d6,O-O,O-O,Nc3,c5,e4,Nc6,h3,Rb8,Bg5,b5,Qd2,b4,Ne2,Nd7,Bh6,e5,Bxg7,Kxg7,Nh4,Nb6,f4,c4,f5,cxd3,f6+,Kh8,Qh6,Rg8,cxd3,Nd7,Qg5,Ba6,Rf3,Nd4,Nxd4,exd4,Bf1,Ne5,Rf4,Rc8,Rd1,Rc2,Ng2,Rxb2,Qh6,Qf8,Qg5,Qc8,Kh2,Qc2,Re1,Bxd3,Qh6,Bxf1', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/4FsTO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FTlo', 'Classical', 'Sagar266', 1831, 'Restucarlsen', 1872, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,a6,Ba4,Bd7,c3,h6,d4,Nf6,Re1,Be7,Be3,O-O,h3,Qc8,Bxc6,bxc6,dxe5,dxe5,Nxe5,Bxh3,Nxc6,Bd6,e5,Qd7,exf6,Qxc6,f3,Rad8,Qe2,Bf5,fxg7,Rfe8,Qf1,Bg3,Nd2,Rxd2,Bxd2,Qg6,Rxe8+,Kxg7,Bxh6+,Qxh6,Qd1', 'Qh2+,Kf1,Qh1+,Ke2,Qxg2+,Ke3,Qf2#', 'https://lichess.org/training/4FTlo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4fUP0', 'Rapid', 'sandzzz', 1724, 'savas112', 1725, 'g3,e5,Bg2,d5,c4,d4,d3,c6,Nd2,Bb4,a3,Be7,Ngf3,h6,Nxe5,Bf6,Nef3,Na6,O-O,Ne7,Nb3,b6,Re1,O-O,e3,c5,exd4,cxd4,Nfxd4,Rb8,Nb5,Qc7,Bf4,Qd7,Bxb8,Nxb8,d4,a6,Nc3,a5,Nb5,Ba6,Qd3,a4,Nd2,Bxb5,cxb5,Bxd4,Rxe7', 'Bxf2+,Kxf2,Qxd3', 'https://lichess.org/training/4fUP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Fv4H', 'Blitz', 'eganerdene', 1752, 'TheClouds', 1750, 'g4,d5,Bg2,e5,c4,Ne7,cxd5,Nxd5,Qb3,c6,Nc3,Nxc3,dxc3,Qc7,Nf3,Bd6,Rg1,Bxg4,Ng5,O-O,Bh3,Bxh3,Nxh3,Nd7,Bh6,Nc5,Qc4,b5,Qg4,g6,Bxf8,Bxf8,Qh4,Rd8,Ng5,h6,Nf3,Qd6,Qg3,Ne4,Qg2,Ng5,Nxg5', 'Qd2+,Kf1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/4Fv4H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Fv5N', 'Blitz', 'wdhorton', 1659, 'flopska', 1673, 'd4,d5,Bf4,Nf6,e3,c5,Bd3,Nc6,c3,cxd4,exd4,g6,Nd2,Bf5,Bxf5,gxf5,Ngf3,Bg7,Ne5,Ne4,Nxe4,fxe4,Qd2,O-O,O-O-O,Rc8,Bh6,Qd6,Bxg7,Kxg7,Qg5+,Kh8,h4,f6,Ng6+,hxg6,Qh6+,Kg8,Qxg6+,Kh8,Rh3,f5', 'Qh5+,Kg7,Rg3+,Qxg3,fxg3', 'https://lichess.org/training/4Fv5N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FvlW', 'Rapid', 'Beginner04', 2009, 'stath1993', 2160, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,d6,Nbd2,Nh5,Bg3,Nxg3,hxg3,Nd7,Bd3,e5,c3,Qe7,Qc2,f5,e4,fxe4,Bxe4,Nf6,dxe5,Nxe4,exd6,Nxd6+,Kf1,Bf5,Qa4+,Qd7,Re1+,Kd8,Qb3,c6,Kg1,Kc7,Nc4,Nxc4,Qxc4,h6,Kh2,Rae8,Rd1,Qe6,Qa4,Kb8,Nd4,Bxd4,Rxd4,Qe5,Rhd1,Qc7,b4,Re7,b5,c5,b6,Qxb6,Rd6,Qc7,Qf4,Bc8,Qf6,Rhh7,Qf8,h5,Qf4,h4,gxh4,Rd7,g3,Rxd6,Rxd6,Rd7,Rxd7,Qxf4,Rxb7+,Kxb7,gxf4,Bf5,Kg3,Kc6,Kf3,Kd5,Ke3,Kc4,Kd2,Bb1,Kc1,Bxa2,Kb2,Bb3,f5,Ba4,fxg6,Be8,g7,Bf7,h5,Kd5,h6,Bg8,Kb3,Ke4+,Ka4,Kf3,Kb5,c4,Kc5,Kxf2,Kd6,Ke3', 'Ke7,Kd2,Kf8,Bh7,g8=Q,Bxg8,Kxg8', 'https://lichess.org/training/4FvlW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4fzbO', 'Rapid', 'viktor06', 1947, 'cserges', 1916, 'e4,e5,Bc4,d6,Nf3,Bg4,Nc3,Nc6,b4,a6,a4,Nd4,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/4fzbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4FzmX', 'Rapid', 'Nicolas2013', 1756, 'ender74', 1842, 'e4,e5,Nf3,Nc6,Bc4,Be7,Nc3,Nf6,O-O,O-O,d3,d6,Bg5,Bg4,h3,Bh5,Be3,Na5,Bb3,Nxb3,axb3,a6,Nd5,Nxd5,exd5,Kh8,c3,f5,d4,Bf6,dxe5,Bxe5,Bd4,Re8,Bxe5,Rxe5,Qd3,Bxf3,Qxf3,Qf6,Rfe1,Rae8,Rxe5,Rxe5,Kf1,Qf7,c4,g6,Re1,Kg7,Rxe5,dxe5,Qc3,Qf6,Qb4,b6,c5,e4,f3,e3,Ke2,Qxb2+,Kxe3,Qxg2,cxb6,cxb6,Qxb6', 'Qg1+,Kd3,Qxb6', 'https://lichess.org/training/4FzmX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4g1SA', 'Classical', 'doruklord', 1953, 'kargo5', 1915, 'e4,c6,d4,d5,exd5,cxd5,c4,e6,Nc3,Nf6,Nf3,Be7,Bf4,Nc6,cxd5,Nxd5,Nxd5,exd5,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/4g1SA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4G2lO', 'Rapid', 'Crackity', 2170, 'gametry1', 1658, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,a6,Bc4,d6,O-O,Nc6,Qe2,Nf6,Rd1,Qc7,Bf4,Be7,Rac1,O-O,Bb3,Qb8,h3,Rd8,Nd5,exd5,exd5,Ne5,Nxe5,dxe5,Bxe5,Bd6,Bxf6,gxf6,Qh5,Bh2+,Kh1,Be5,Bc2,f5', 'Qg5+,Kh8,Qxd8+', 'https://lichess.org/training/4G2lO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4G3KC', 'Rapid', 'Spurs1969', 2063, 'cobre', 2139, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,O-O,Nc6,d5,Ne7,Bg5,h6,Be3,Ne8,Ne1,f5,f3,f4,Bf2,g5,c5,h5,Rc1,Nf6,cxd6,cxd6,Nb5,a6,Nc7,g4,Nxa8,Ng6,Nb6,g3,hxg3,fxg3,Rxc8,gxf2+,Rxf2,Qxb6,Rxf8+,Kxf8,Qd2,Nf4,Nd3,Bh6,Kf1,Nxd3', 'Qxh6+,Kf7,Bxd3', 'https://lichess.org/training/4G3KC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4G5SH', 'Rapid', 'almarset', 2069, 'b9b', 2085, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,d3,Bb4+,c3,O-O,dxe4,Bc5,e5,Nxd5,Bg5,Qd7,Nbd2,f6,exf6,Re8,Be3,Bxe3,O-O-O,Bxd2+,Qxd2,c6,Bc4,gxf6,Qh6,Qg7,Qh5,Qg6,Bxd5+,cxd5,Qxd5+,Be6,Qxb7,Bxa2,Qxa8,Qh6+,Rd2,Qg6,Rdd1,Qb1+,Kd2,Qxb2+,Kd3,Qe2+,Kd4,Nc6+,Qxc6,Rd8+,Kc5', 'Qc4#', 'https://lichess.org/training/4G5SH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4g6nU', 'Blitz', 'JersonPachecoC', 1693, 'Cheems2021', 1594, 'd4,d5,c4,e6,Nc3,Bb4,e3,dxc4,Bxc4,Nf6,Nf3,Ne4,Bd2,Nxd2,Nxd2,O-O,O-O,Nd7,Qb3,Ba5,Nf3,Nf6,Bd3,Bd7,Ne4,Nxe4,Bxe4,Bc6,Qd3,Bxe4,Qxe4,c6,Rac1,Qb6,b3,Rad8,Ng5,g6,Rc5,Bb4,Rc4,Be7,Nxe6,fxe6,Qxe6+,Kh8,Qxe7,Rde8,Qc5,Qc7,Qxa7,Qf7,Qc5,Rxe3,Rcc1,Re2,Rc2', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/4g6nU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4g8kh', 'Rapid', 'chaturville', 1736, 'andy81944', 1734, 'c4,e5,Nc3,Nf6,Qc2,d5,cxd5,Nxd5,Nxd5,Qxd5,e4,Qc6,Qd3,Be6,Nf3,Nd7,Be2,O-O-O,Qc3,Qxc3,bxc3,h6,Bb5,g5,d4,exd4,cxd4,Bg4,Bxd7+,Rxd7,Ne5,Rxd4,Nxg4,Rxe4+,Ne3,Bb4+,Bd2,Bxd2+,Kxd2,Rd8+,Ke2,f5,Rhd1,f4,Rxd8+,Kxd8,Kf3,Rb4,Rd1+,Ke8,Nd5,Rc4,Re1+,Kd8,Re4,Rc2,Re2', 'g4+,Kxg4,Rxe2', 'https://lichess.org/training/4g8kh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4g9ow', 'Blitz', 'ramzes91', 1731, 'yaghoob1363', 1784, 'd4,d5,c4,dxc4,e4,b5,a3,a6,Nc3,h6,Nf3,Nf6,Be2,g5,h3,Nc6,d5,Na5,e5,Nh7,Nd4,Bb7,Bf3,Qd7,O-O,f6,exf6,Nxf6,Nc6,Nb3', 'Bh5+,Nxh5,Qxh5#', 'https://lichess.org/training/4g9ow');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4gbUn', 'Classical', 'MaxBologna', 1663, 'ChessMasterKikly', 1692, 'c4,e5,g3,Bc5,Bg2,Nf6,e3,O-O,Ne2,c6,Nbc3,b6,d4,exd4,exd4,Bb4,O-O,Ba6,a3,Be7,b3,d5,b4,Bxc4,Re1,Kh8,Nf4,Bd6,Bb2,Bxf4,gxf4,Qd6,Qf3,Nbd7,Bf1,Bxf1,Kxf1,Rae8,Rxe8,Nxe8,Bc1,f5,Be3,Nef6,h3,Ne4,Nxe4,fxe4,Qg4,Nf6,Qg2,Nh5,Ke2,Nxf4+,Bxf4,Qxf4,Rg1,Qf3+,Qxf3,Rxf3,Rc1,Rf6,b5,c5,dxc5,bxc5,Rxc5,Kg8,Rc8+,Kf7,Rc7+,Ke6,Rxa7,Kd6,b6,Rf8,b7,Rb8,a4,Kc6,a5,Rxb7,Rxb7,Kxb7,Ke3,g5', 'Kd4,Kc6,a6', 'https://lichess.org/training/4gbUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4gCCr', 'Rapid', 'p123', 1778, 'iyad882', 1952, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ne5,Qe7,d4,d6,Nxg4,Qxe4+,Qe2,d5,Qxe4+,dxe4,Ne5,f6,Nc4,Bh6,Nc3,e3,Nd5,Na6,Ncxe3,fxe3,Bxa6,bxa6,Nxc7+,Kd7,Nxa8,Bb7,Ke2,Bxg2,Rg1,Bxa8,Bxe3,Bxe3,Kxe3,Ke7,Rg7+,Ke6,Rxa7,Nh6,Rxa6+,Kf7,Rf1,Re8+,Kd2,Ng4,Rf4,h5,Rf5,Kg6,Raa5,Bf3,Rxh5,Re2+,Kc3,Ne3,Rhc5,Nxc2,Rf5,Re3+,Kc4', 'Be2+,Kc5,Kxf5', 'https://lichess.org/training/4gCCr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4GcXp', 'Rapid', 'guigonser', 1810, 'themango', 1866, 'e4,e6,d4,d5,exd5,exd5,Qe2+,Be6,Nf3,h6,Bf4,Nf6,Nbd2,Be7,Be5,Nc6,Qb5,Rb8,Qa4,O-O,Bb5,Nxe5,Nxe5,c6,Bd3,Ra8,O-O,b5,Qa6,Qc7,Qxc6,Qxc6,Nxc6,Bd6,Ne5,a6,h3,Nd7,Nxd7,Bxd7,b3,Rfe8,Rfe1,Bb4,Rxe8+,Rxe8,Rd1,Bc3,Nb1,Bxd4,c4,dxc4,bxc4,bxc4,Bxc4,Bf6,Kh2,Bb5,Na3,Bxc4,Nxc4,Re2,Rd2,Rxd2,Nxd2,a5,a4,Bc3,Nc4,Kf8,f4,Ke7,Kg3,Ke6,Kf3,Kd5,Ne3+,Kc5,Ke4,Kb4,Nd5+,Kb3,Kd3,Bf6,Nxf6', 'gxf6,f5,Kxa4,Kc4,Ka3', 'https://lichess.org/training/4GcXp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Gdlg', 'Rapid', 'ethikett', 1617, 'AraPawn', 1715, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,O-O,c4,c5,dxc5,Qa5+,Nfd2,Nc6,a3,Qxc5,b4,Qb6,c5,Qd8,b5,Na5,Nc3,Nh5,Rc1,Nxf4,exf4,Qc7,g3,Qxc5,Ncb1,Qd5,f3,e5,Ne4,Qxd1+,Rxd1,exf4,g4,Re8,Kf2,d5,Rxd5,Bxg4,h3,Be6,Rc5,Nb3,Rc2,Nd4,Rd2,Nf5,Bg2,Rac8,Ng5,Bc4,Rd7,Nh4,Ne4,Bf8,a4,f5', 'Nf6+,Kh8,Rxh7#', 'https://lichess.org/training/4Gdlg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4GeV1', 'Blitz', 'Jackjaffe', 1869, 'valleeduvent88', 1914, 'e4,d5,Nc3,dxe4,Nxe4,Nc6,f3,e5,d3,f5,Ng3,Nf6,Be2,Bc5,c3,O-O,a4,h5,h4,f4,Ne4,Nxe4,dxe4,Qf6,b4,Qg6,Qd5+,Kh8,Qxc5,Qxg2,Qxf8+,Kh7,Bxf4,exf4,O-O-O,Qxh1,Qxf4,Qg2,e5,Be6,Bd3+,Kg8,Qe4,Qa2,Qh7+,Kf8,Qh8+,Bg8,Qxh5,Qa1+,Kd2,Qa2+,Bc2,Qd5+,Kc1,Qf7,Qg5,a6,f4,b5,a5,Ne7,Rd7,Qe6,Rd2,Re8,Nf3,Qa2,Nd4,Qa1+,Bb1,Qxc3+,Kd1,Qh3,f5,Qf1+,Kc2,Qc4+,Kb2,Nd5,Ne6+,Bxe6,fxe6', 'Qc3+,Ka2,Nxb4#', 'https://lichess.org/training/4GeV1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4GEwr', 'Blitz', 'teseambogdan', 1675, 'gagogagi', 1707, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,Ng6,c3,Bc5,h3,O-O,d4,exd4,cxd4,Bb6,Bxc6,bxc6,b3,a5,Bb2,Ba6,Re1,Re8,Nbd2,Nf4,Rc1,Nd3,Qc2,Nxe1,Rxe1,d5,e5,Re6,Ng5,Qxg5,Nf3,Qg6,Qd2,Qd3,Qf4,Qc2,Bc1,Qxa2,Ng5,Re7,e6,f6,Nf7,Qxb3,Qg4,Rxf7,exf7+,Kxf7,Qe6+,Kf8,Bh6,gxh6,Qxf6+,Kg8,Re7,Bxd4', 'Qf7+,Kh8,Qxh7#', 'https://lichess.org/training/4GEwr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ggKP', 'Rapid', 'alassio', 2059, 'AlAnAv', 2126, 'd4,b5,Nf3,a6,c4,bxc4,Nc3,Bb7,e4,e6,Bxc4,Nf6,Bd3,c5,dxc5,Bxc5,O-O,O-O,Bg5,Be7,Rc1,Nc6,a3,Rb8,Qe2,a5,Nb5,d5,Bf4,Rc8,Rfd1,Qb6,Be3,Qd8,Bf4,Nh5,Be3,Re8,Nfd4,Nxd4,Bxd4,Nf6,Rxc8,Qxc8,e5,Nd7,Qh5,g6,Qe2,Qb8,Rc1,Rc8,Rxc8+,Bxc8,h3,Nc5,Qe3,Nxd3,Qxd3,Ba6,a4,Bxb5,axb5,Kf8,b3,Bb4,b6,Ke7,Qb5,Qb7,f4,Bd2,g3,h6,Bc5+,Kd8,Bb4,Be3+,Kf1,Qxb6', 'Bxa5,Qxa5,Qxa5+', 'https://lichess.org/training/4ggKP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4GHd3', 'Blitz', 'adria2003', 2013, 'FM OhanyanEminChess', 2510, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Bd3,Qa5,O-O,Bxa6,Qc2,Nbd7,Bd2,Rfb8,a4,Qb6,Bxa6,Qxa6,Nb5,Ne8,Bc3,Qb7,Bxg7,Kxg7,Qc3+,f6,b3,Nc7,Nxc7,Qxc7,Rfb1,Rb4,Nd2,Rab8,f3,Qb7,Ra3,Qa6,Nc4', 'Rxc4,Qxc4,Qxc4,bxc4,Rxb1+', 'https://lichess.org/training/4GHd3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4giyB', 'Rapid', 'hambel', 1618, 'jb31', 1658, 'd4,d5,Bf4,h5,h3,f6,e3,Nc6,Nf3,g5,Bh2,g4,hxg4,Bxg4,Be2,Nh6,Nc3,Bxf3,Bxf3,e6,Bxh5+,Kd7,Qf3,f5,O-O-O,Qg5,Nb5,Bd6,Nxd6,cxd6,Bf4,Qg7,c4,Rac8,Kb1,dxc4,d5,Ne5,dxe6+,Ke7,Qxb7+,Kf6,e7,Qxe7,Bxe5+,Qxe5,Qa6,Rhd8,Be2,c3,f4,c2+,Kc1,Qc5,Rxh6+,Ke7,Rh7+,Ke8,Rxd6', 'Qxe3+,Rd2,Qxd2#', 'https://lichess.org/training/4giyB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4gjtu', 'Rapid', 'romelmichael', 1919, 'vuyiso', 1874, 'd4,e5,d5,e4,Nc3,f5,Bf4,d6,h3,Nf6,e3,Be7,Be2,O-O,g4,c6,Qd4,c5,Qa4,fxg4,hxg4,Bd7,Qb3,Nxg4,Qxb7,Nxf2,Kxf2,Bh4+,Kf1,Bg3,Nh3,Qh4,Kg2,Bxf4,Nxf4,Qg5+,Kf2,Rxf4+,exf4,Qxf4+,Ke1,e3,Bd3', 'Qf2+,Kd1,Qd2#', 'https://lichess.org/training/4gjtu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4gKWy', 'Blitz', 'Zugzwang_Master', 1650, 'Dasi_97', 1692, 'd4,d5,Nf3,c5,Bf4,e6,e3,Nc6,Nc3,Nf6,Bb5,Bd7,Qe2,a6,Bxc6,bxc6,Ne5,cxd4,exd4,Bd6,O-O,O-O,Bg5,c5,dxc5,Bxc5,Bxf6,gxf6,Qg4+,Kh8,Nf3,Rg8,Qh5,Qb6,Qxf7,Bb5,Qxf6+,Rg7,Nxb5,axb5,Ne5,Rf8,Qh4,Be7,Ng6+,Rxg6,Qxe7,Rfg8,g3,h5,h4,Qd4,Rae1,Qxh4,Rxe6', 'Rxg3+,fxg3,Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/4gKWy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4GNBJ', 'Rapid', 'Nini1', 1903, 'SubSahara', 1799, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd5,Nf6,Qd1,Be7,Nc3,O-O,Bc4,d6,O-O,Be6,Bxe6,fxe6,Qd3,a6,Bf4,b5,Rad1,b4,Ne2,e5,Bg5,Nh5,Bxe7,Qxe7,Ng3,Nxg3,Qxg3,Rf4,Qd3,Rf6', 'Qd5+,Qf7,Qxa8+', 'https://lichess.org/training/4GNBJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4GOcR', 'Blitz', 'nobonnom', 2081, 'Slaven24', 2111, 'e4,b6,d4,Bb7,Bd3,e6,Qe2,d6,a3,Nc6,Nf3,e5,d5,Nce7,c4,Ng6,Nc3,Nf6,O-O,Be7,b4,a5,Bd2,O-O,Nb5,axb4,axb4,h6,g3,Qd7,Rfc1,Rxa1,Rxa1,Ra8,Rxa8+,Bxa8,Be3,Bb7,Qa2,Qg4,Qa7,Qxf3,Qxb7,Nxe4,Qxc7,Bg5,Qxb6,Nd2,Bxg6', 'Qd1+,Kg2,Qf1#', 'https://lichess.org/training/4GOcR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4gpSq', 'Rapid', 'playforpleasure', 1859, 'Ivanhoe123', 2079, 'd4,e5,dxe5,Nc6,Nf3,Qe7,g3,Nxe5,Bf4', 'Nxf3#', 'https://lichess.org/training/4gpSq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4gsMY', 'Classical', 'TheObelisk', 1658, 'paixpaix', 1664, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,O-O,Nxe4,d4,exd4,Re1,d5,Bd3,dxc3,Nxc3,Bxf2+,Kh1,Bxe1,Qxe1,O-O,Bxe4,dxe4,Nxe4,Re8,Bg5,Qd5,Nf6+,gxf6,Qxe8+,Kg7,Bf4,b6,Qe1,Bb7,Qg3+,Kh8,Qh4,Nd4,Qxf6+,Kg8,Bh6,Ne6,Rg1,Rd8,Ng5,Rd7,Nxe6,fxe6', 'Qf8#', 'https://lichess.org/training/4gsMY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4gTVI', 'Classical', 'Shaykez', 1611, 'S4sachin', 1671, 'Nf3,c5,g3,d6,Bg2,Nf6,Nc3,g6,b3,Bg7,Bb2,O-O,d3,Qa5,O-O,a6,Qd2,Nc6,Nd5,Qxd2,Nxd2,Nxd5,Bxg7,Kxg7,Bxd5,Nd4,Kg2,Nxc2,Rac1,Nd4,Nf3,Nxe2,Rce1,Nc3,Bc4,d5,Bxd5,Nxd5,Re5,b5,Rxd5,Bb7,Rxc5,Rad8,Rd1,Rd4,Rc7,Ba8,Ra7,Rfd8', 'Rxa8,Rxa8,Nxd4', 'https://lichess.org/training/4gTVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4gUh9', 'Classical', 'xPoldo', 1722, 'El_Tade0', 1755, 'd4,e6,c4,d5,cxd5,exd5,Nc3,Bb4,a3,Ba5,Bd2,Ne7,Nf3,O-O,e4,Nbc6,e5,Bf5,Be2,Ng6,Bg5,Qd7,O-O,Bb6,Qd2,Nce7,Nh4,c5,Nxf5,Nxf5,Bb5,Qe6,dxc5,Rac8,cxb6,Qxb6,Bd7,Nxe5,Bxc8,Rxc8,Nxd5,Qg6,Rac1,Re8,Ne7+,Nxe7,Bxe7', 'Nf3+,Kh1,Nxd2', 'https://lichess.org/training/4gUh9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4gUoj', 'Blitz', 'frodo1978', 2257, 'ImRonni', 1758, 'e4,Nc6,Nf3,g6,d4,d5,e5,Bf5,Bd3,e6,Bxf5,gxf5,b3,Bb4+,c3,Ba5,O-O,Nge7,a4,a6,Bg5,Qd7,b4,Bb6,Bf6,Rg8,Nbd2,O-O-O,b5,Nb8,bxa6,Nxa6,a5,Ba7,Qb3,Rg6,g3,Rdg8,Rfb1,c6,c4,h5,c5,f4,Rb2,fxg3,hxg3,Nf5,Rab1,Kb8,Qxb7+,Qxb7,Rxb7+,Ka8,Rxf7,Nxg3,fxg3,Rxg3+,Kf2,Rg2+,Ke3,Nxc5,dxc5,Bxc5+,Kd3,R8g3,Rc1,Bb4,Rxc6', 'Rxd2+,Ke3,d4+,Kf4,Rg4#', 'https://lichess.org/training/4gUoj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4GUUI', 'Rapid', 'Schinderhannes', 1847, 'Exclamm', 1872, 'd4,e5,dxe5,Nc6,Nf3,Qe7,g3,Nxe5,Bg2,Nf6,Nbd2,d6,O-O,c6,Nxe5,Qxe5,Nf3,Qh5,Bf4,d5,Ne5,Bh3,e3,Bxg2,Qxh5,O-O-O,Qxf7,Be4,f3,Bf5,g4,Rd7,Nxd7,Bxd7,Qh5,Bc5,Qh3,h5,Qg2,hxg4,Qd2,gxf3,Rxf3,Ng4,Raf1,Bb6,Bg3,Nf6,Rxf6,gxf6,Rxf6,Re8,Bf4,Bh3,Qf2,Kd7,Rf7+,Ke6,Rg7,Bf5,Qh4,d4,Qh6+,Kd5,Qd6+,Ke4,Re7+,Rxe7,Qxe7+,Kf3,Kf1,dxe3,Qxb7', 'e2+,Ke1,Bf2+,Kd2,e1=Q#', 'https://lichess.org/training/4GUUI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4gVzY', 'Rapid', 'amirhossein86', 1625, 'caduzon', 1680, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,e5,Nf3,Nf6,Bc4,Bc5,Bg5,O-O,Nd5,Be7,Nxe7+,Qxe7,Bxf6,gxf6,Nh4,Qb4+,c3,Qxc4,Qg4+,Kh8,Nf5,Rg8,Qh4,d5', 'Qxf6+,Rg7,Qxg7#', 'https://lichess.org/training/4gVzY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4GYiq', 'Rapid', 'ameedo', 1808, 'jurdy', 1656, 'e4,e5,d4,Bb4+,c3,Ba5,a4,a6,dxe5,Nc6,Nf3,Nge7,Bg5,O-O,Bc4,Re8,Qb3,Rf8,O-O,Qe8,Bf4,Ng6,Bg3,Ngxe5,Nxe5,Nxe5,Be2,d6,Nd2,Be6,Qc2,Bb6,Nf3,Nxf3+,Bxf3,Qd7,e5,dxe5,Bxe5,c6,Rad1,Qc8,Be4,h6,Kh1,Rd8,Rxd8+,Qxd8,Rd1,Qe7,Bd4,Bxd4,Rxd4,Rd8,Qd2,Rxd4,Qxd4,Qh4', 'Bh7+,Kxh7,Qxh4', 'https://lichess.org/training/4GYiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4h6t0', 'Rapid', 'IM MihaiG', 2141, 'forque1984', 2121, 'Nf3,d6,c4,e5,d4,Nd7,Nc3,Ngf6,e4,Be7,Ke2,c6,d5,O-O,Be3,Qc7,h3,Nc5,Nd2,Nh5,b4,Na6,Qb3,Nf4+,Ke1,Nb8,g3,Ng6,Be2,Nd7,f4,exf4,gxf4,Bh4+,Kd1,a5,b5,c5,a3,b6,Kc2,Re8,Raf1,Ndf8,Rhg1,Bf6,Bg4,Bd7,a4,Qc8,e5,dxe5,f5,Nf4,Nde4,Bxf5,Bxf5,Qxf5,Kb2,Qxh3,Bxf4,exf4,Nxf6+,Kh8,Nxe8,Rxe8,Rxf4', 'Qh2+', 'https://lichess.org/training/4h6t0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4h7YX', 'Rapid', 'mkarthick19', 1678, 'Grevozin', 1806, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Bd6,Bd3,O-O,O-O,Be6,Re1,Nbd7,Nb5,Bb4,c3,Ba5,b4,Bb6,a4,a6,Na3,c6,a5,Bc7,c4,b5,cxd5,Nxd5,Bd2,Bd6,Qc2,Nxb4,Bxb4,Bxb4,Bxh7+,Kh8,Reb1,Bxa5,Be4,Bd5,Bxd5,cxd5,Qf5,Nf6,Ng5,Bc3', 'Qh3+,Kg8,Qxc3', 'https://lichess.org/training/4h7YX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4H95t', 'Blitz', 'Salih_Sofu', 1627, 'siddharthrocks', 1669, 'd4,Nf6,Bf4,d5,c3,Bf5,e3,e6,Nf3,Nbd7,Nh4,Bg4,f3,Bh5,g4,Bg6,Nxg6,hxg6,Bd3,c5,b3,Qb6,Nd2,Bd6,Bxd6,Qxd6,Qc2,Rxh2,Rxh2,Qxh2,O-O-O,O-O-O,e4,cxd4,cxd4+,Kb8,Kb1,dxe4,Rc1,Re8,fxe4,Nxg4,e5,Ne3,Qc7+,Ka8,Be4,Rb8,Qxd7,Qxd2,Bxb7+,Rxb7', 'Rc8+,Rb8,Qc6#', 'https://lichess.org/training/4H95t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HAcr', 'Rapid', 'adrija2011', 1758, 'Dieren', 1763, 'd4,d5,c4,dxc4,e3,e6,Bxc4,Nf6,Nc3,Be7,Nf3,a6,O-O,O-O,Bd3,b5,a3,Bb7,Re1,c5,dxc5,Bxc5,e4,Qb6,Be3,Bxe3,Rxe3,Ng4,Re2,Nc6,e5,Na5,Rc2,Nb3,Rb1,Bxf3,Qxf3,Nd4,Qxg4,Nxc2,Bxc2,Rad8,Qe4,g6,h3,Rd2,Rf1,Rfd8,Nb1,R8d4,Nxd2,Rxe4,Nxe4,Qd4,Nf6+,Kg7,Re1,Qxb2,Bb1,Qxa3,Ne8+,Kf8,Nf6,Qc3,Rd1,Qxe5', 'Nd7+,Ke7,Nxe5', 'https://lichess.org/training/4HAcr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Hb33', 'Blitz', 'roquemaspoli', 2207, 'JGrimaldo', 2215, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,d6,d3,O-O,e4,c5,Nge2,Nc6,O-O,Bd7,h3,Rc8,Be3,a6,Qd2,Ne5,f4,Nc6,Kh2,e6,Rf2,Qa5,Raf1,b5,b3,bxc4,dxc4,Ne8,g4,Nd4,f5,Be5+,Kh1,Nxe2,Nxe2,Qxd2,Bxd2,exf5,gxf5,Ng7,Bh6,gxf5,exf5,f6,Bd5+,Kh8,Rg2,Rg8,Rfg1,Nxf5', 'Rxg8+,Rxg8,Rxg8#', 'https://lichess.org/training/4Hb33');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HcAh', 'Classical', 'cam1star', 1894, 'H3paJ', 1984, 'e4,c5,Nf3,Nc6,Bb5,Qc7,Nc3,Nd4,Nxd4,cxd4,Nd5,Qe5,d3,Qd6,c3,e6,Bf4,e5,Bg3,dxc3,bxc3,a6,Ba4,b5,Bb3,Bb7,d4,Bxd5,Bxd5,Rc8,Bxe5,Qa3,Qf3,Qxc3+,Qxc3,Rxc3,O-O,f6,Bf4,Ne7,Bb7,Nc6,Bxc6,dxc6,Rac1,Rxc1,Rxc1,Kd7,e5,fxe5,Bxe5,Rg8,f4,g6,Kf2,Bd6,Ke3,Re8,Kd3,Bb4,g4,Re7,f5,c5,f6,c4+,Kc2,Rf7,g5,Bd6,h4,Bxe5,dxe5,Ke6,Re1,Rd7,Kc3,a5,a4,Rd3+,Kc2,b4,Re4', 'b3+,Kc1,c3', 'https://lichess.org/training/4HcAh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HcXy', 'Rapid', 'Gianna101420', 1957, 'SpankyRobot', 1918, 'e4,e5,Nf3,Nf6,d4,Nxe4,dxe5,d5,Be2,Bc5,O-O,O-O,Be3,Bxe3,fxe3,c6,Nbd2,f5,exf6,Nxf6,c4,Bg4,cxd5,cxd5,Qb3,Qe7,Rac1,Nc6,h3,Bh5,e4,Nxe4', 'Qxd5+,Bf7,Qxe4,Qxe4,Nxe4', 'https://lichess.org/training/4HcXy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HfoE', 'Rapid', 'Aleix_Saez2009', 1654, 'Estebanbarange', 1680, 'e4,e5,f3,Nc6,Bc4,Nf6,Bb5,Bb4,c3,Bc5,b4,Bxg1,Rxg1,d6,Qb3,Be6,Bc4,Bxc4,Qxc4,d5,exd5,Nxd5,Rf1,O-O,b5,Nd4,f4,Nc2+,Kd1,Nxa1,fxe5,Re8,Re1,f6,exf6,Rxe1+,Kxe1,gxf6,Bb2,a6,Bxa1,b6,bxa6,Qd7,d3,b5,Qg4+,Kh8,Qh4,Nxc3,Nxc3,Qxd3,Qxf6+,Kg8,Qe6+,Kf8,Qc6', 'Re8+,Qxe8+,Kxe8', 'https://lichess.org/training/4HfoE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4hHNn', 'Rapid', 'EdwardRoss', 1603, 'sirkam55', 1662, 'e4,h5,Nf3,d6,Bc4,Bg4,h3,Bd7,Ng5,e6,d3,Nc6,Qf3,f6,Nxe6,Bxe6,Bxe6,Ne5,Qf5,Ne7,Qf4,N7g6,Qf5,Qe7,f4', 'Nh4,fxe5,Nxf5', 'https://lichess.org/training/4hHNn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4hjGp', 'Blitz', 'Alex_535', 1559, 'Muraddi', 1510, 'e4,g6,Nf3,Bg7,Bc4,e6,d3,Ne7,e5,d6,exd6,cxd6,Nc3,d5,Bb5+,Bd7,O-O,Bxc3,bxc3,Bxb5,c4,dxc4,dxc4,Qxd1,Rxd1,Bc6,Ne5,O-O,Ba3,Re8,Nxc6,Nbxc6,Rd7,b6,Rad1,Rad8,Rxd8,Nxd8,Bxe7,Rxe7,Rxd8+,Kg7,Rc8,Rd7,g3,Rd2,c5,Rxc2,c6,Rxa2,c7,Rc2,h4,h5,Kg2,a5,Rb8,Rxc7,Rxb6,Ra7,Rb3,a4,Ra3,e5,Kf3,f5,Ke3,Kf6,f3,g5,hxg5+,Kxg5,f4+,exf4+,gxf4+,Kg4,Ra1,a3,Rg1+,Kh4', 'Kf3,a2,Rh1#', 'https://lichess.org/training/4hjGp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4hm6K', 'Rapid', 'rafaelj', 1831, 'RankedAOXZ', 1646, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,c4,Nf6,Nc3,e5,Nxc6,bxc6,f3,Be7,Be3,O-O,Be2,a6,Qd2,Be6,O-O,Qa5,b3,Qb4,Rac1,Qa5,Rc2,Rfb8,Na4,Qxd2,Bxd2,c5,Nc3,Kf8,Nd5,h5,Nxf6,Bxf6,f4,Bg4,Bxg4,hxg4,f5,Ke7,g3,Rh8,Be3,Rh3,Rff2,Rah8,Kf1,Kd7,Ke1,Be7,Kd1,f6,Rc1,Rg8,Rcc2,g5,Kc1,Kc6,Kb2,Kb6,Ka3,Ra8,Ka4,Kc6,Rcd2,Rb8,Ka3,Bd8,Rde2,Ba5,Bd2,Bb4+,Bxb4,Rxb4,Rd2,a5,Rd3,Rh8,Rfd2,Rd8,Rd5,Rb7,Ka4,Rb4+,Ka3,a4,Kb2,Kc7,R5d3,axb3,axb3,Kc6,Kc3,Rb6,Ra2,Kd7,Ra7+,Ke8,Rh7,Ra6,Rh8+,Kd7,Rxd8+,Kxd8,Kb2,Kc7,Rd1,Kb7,Ra1,Rxa1,Kxa1,Kb6,Kb2,Ka5,Ka3,Kb6,Ka4,Ka6,b4,cxb4,Kxb4,Kb6,Ka4', 'Kc5,Kb3,Kd4', 'https://lichess.org/training/4hm6K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HmmD', 'Rapid', 'BeRNI17103', 1869, 'Aleks1703', 1960, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Nf6,Nc3,Be7,d4,exd4,Nxd4,Bd7,Bg5,O-O,O-O,h6,Bh4,a6,Ba4,b5,Bb3,Nh7,Bxe7,Qxe7,Re1,Ng5,Nf5,Qf6,Nd5,Qe5,Nxc7,Rac8,Nxa6,Bxf5,exf5,Qxf5,Qxd6,Rfd8,Qg3,Ne4,Qe3,Re8,f3,Nf6,Qd2,Red8,Qf2,Qg5,Rad1,Nh5,Rxd8+,Rxd8,Qb6,Nf4,Qf2,Rd2,Qxd2', 'Nxh3+,Kf1,Qxd2', 'https://lichess.org/training/4HmmD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4hMvF', 'Rapid', 'TinoCai', 1614, 'MrForbs', 1686, 'd4,Nf6,c3,g6,Bf4,d6,Nf3,Bg7,Nbd2,Bf5,g3,Nbd7,Bg2,O-O,Ng5,e5,dxe5,dxe5,Be3,c6,O-O,Nd5,Nc4,Nxe3,Nxe3,Qxg5,Nxf5,Qxf5,e4,Qe6,f4,f5,Bh3,Rad8,exf5,gxf5,Qh5,e4,g4,fxg4,Bxg4,Qg6,Qxg6,hxg6,Rae1,Rde8,Bxd7,Re7,Bg4,b5,a3,e3,Bf3,Re6,Bd1,a5', 'Bb3,Kh7,Bxe6', 'https://lichess.org/training/4hMvF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4hnK7', 'Rapid', 'Aracaju', 2011, 'Ahmadi58', 1868, 'e4,e6,d3,d5,Nd2,c5,Ngf3,d4,g3,Nc6,e5,f6,Qe2,fxe5,Nxe5,Qd5,Ndf3', 'Nxe5,Nxe5,Qxh1', 'https://lichess.org/training/4hnK7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HPdX', 'Rapid', 'riddlervillain', 1787, 'mir252', 1755, 'd4,c5,d5,g6,Nf3,Bg7,e4,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ne5,Nxe5,Bxe5,f4,Bg7,f5,b6,fxg6,fxg6,Qf3,Nf6,Bg5,O-O,Nc3,Nxd5,Qh3,Nxc3,Qe6+,Kh8,bxc3,Bxc3,Bh6,Rxf1+,Rxf1,Bf6,Qf7,Qg8', 'Rxf6,Qxf7,Rxf7', 'https://lichess.org/training/4HPdX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HQuK', 'Rapid', 'Deveshc', 1695, 'BVM1990', 1644, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,exd4,e5,Ng4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nxe5,Re1,d6,Qg3,h6,Ne4,Qe7,Nxc5', 'Nf3+,gxf3,Qxe1+', 'https://lichess.org/training/4HQuK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HqXN', 'Rapid', 'AyberkOtlu', 1966, 'sanjiroo_15', 2039, 'd4,d5,c4,c6,e3,Bf5,Nc3,Nf6,Nf3,e6,Be2,Bd6,O-O,O-O,h3,Nbd7,Nh4,Bg6,Nxg6,hxg6,Re1,Rc8,c5,Bb8,b4,Qc7,g3,Ne4,Nxe4,dxe4,Bc4,Nf6,Bb2,Nh5,Kg2,Kh7,Rg1,Rh8,Qg4,f5,Qe2,Rce8,a4,Kg8,b5,Nf6,a5,cxb5,Bxb5,Rd8,Qc4,Nd5,a6,bxa6,Rxa6,Rh5,Rxe6', 'Nxe3+,fxe3,Qxg3+', 'https://lichess.org/training/4HqXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4hR3C', 'Rapid', 'fdiog', 1716, 'kici99', 1777, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,b6,e3,Bb7,a3,Bxc3+,bxc3,O-O,a4,d6,a5,Nbd7,a6,Bc6,Be2,Rb8,Rb1,Ne4,Qc2,d5,Ne5,Nxe5,dxe5,Qg5,Bf3,Qxe5,cxd5,Bxd5,Bb2,Ba8,O-O,Nf6,c4,Qg5,Bxf6,Qxf6,Bxa8,Rxa8,Rbd1,Rfd8,Rd3,Rxd3,Qxd3,Rd8,Qe4,h6,Qc6,Qe7,Qb7,Qc5,Qxa7,Qxc4,h3,Rd2', 'Qb8+,Kh7,a7', 'https://lichess.org/training/4hR3C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HRsS', 'Blitz', 'cruxpizza', 1604, 'EL_ShEikH', 1636, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Nc3,e5,Qd1,Nf6,Bc4,Be7,Nd5,O-O,Bg5,Be6,Bxf6,Bxf6,Qd2,Bg5,Qd3,Qa5+,c3,Bxd5,Bxd5,Rab8,O-O,Qc7,Qb5,a6,Qb3,b5,Qd1,Kh8,Qg4,Bf6,f4,exf4,Rxf4,b4,c4,Be5,Rf5,f6,Rh5,Bxb2', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/4HRsS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HtYx', 'Rapid', 'DragonDawgs', 1872, 'bartola', 1863, 'd4,c5,d5,d6,e4,a6,c4,e5,dxe6,fxe6,Nc3,e5,Qh5+,g6,Qd1,Bg7,Nf3,Nf6,Bg5,h6,Bxf6,Bxf6,Qd2,O-O,Qxh6,Qe8,Be2,Bg7,Qd2,Qd8,Ng5,Nc6,Qd5+,Kh8,Nf7+,Rxf7,Qxf7,Nd4,Bd1,Qg5,O-O', 'Bh3,Qf3,Nxf3+', 'https://lichess.org/training/4HtYx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4hUr9', 'Rapid', 'Hassan_2810', 1758, 'Fernandolopezsoler', 1752, 'Nf3,d6,g3,e6,Bg2,c6,d4,d5,Bg5,Be7,Bxe7,Nxe7,Ne5,O-O,O-O,Nd7,Ng4,Ng6,Nd2,Nb6,Nf3,Nc4,b3,Nd6,Nfe5,Nxe5,Nxe5,f5,e3,Qa5,Qh5,Nf7,Nf3,Qc3,Rac1,Qb2,a4,a6,h4', 'g6,Qg5,Nxg5', 'https://lichess.org/training/4hUr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HVXo', 'Blitz', 'Tiranno', 2180, 'Leo_68', 2195, 'c4,e5,Nc3,Nc6,g3,g6,Bg2,Bg7,d3,f5,e3,Nf6,Nge2,O-O,O-O,d6,Rb1,h6,b4,g5,b5,Ne7,f4,Ng6,Nd5,Kh7,a4,Rb8,a5,Be6,Qa4,Qd7,Ba3,Nh5,a6,b6,Nb4,exf4,exf4,gxf4,gxf4,Nh4,Bh1,Bf6,Nc6,Rg8+,Kf2,Rbe8,Bb2,Qg7,Bxf6,Nxf6,h3,d5,Rg1,Qf7,Ne5,Qe7,Nc6,Qd6,Rxg8,Rxg8,Rg1,dxc4,dxc4,Qc5+,Ned4,Ne4+,Bxe4,Rxg1,Kxg1,fxe4,Qd1,Bxc4,Kh2,Bxb5,Nxb5', 'Qf2+,Kh1,Qg2#', 'https://lichess.org/training/4HVXo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4hWn5', 'Blitz', 'roboteck', 2064, 'Porcomangus', 2095, 'd4,f5,c4,e6,Nc3,Nf6,Nf3,b6,Bg5,Bb4,e3,Bb7,Be2,Bxc3+,bxc3,O-O,O-O,h6,Bh4,g5,Bg3,Ne4,Qb3,g4,Bh4,Qe8,Ne5,Nd2,Qc2,Nxf1,Bxf1,d6,Nd3,Nd7,Qb3,Qf7,c5,dxc5,Nf4,Bd5,Nxd5,exd5,c4,c6,cxd5,cxd5,dxc5,Nxc5,Qb5,Ne4,Qb2,Qg7,Qb1,Rac8,Qd1,Rc5,Bg3,Rfc8,Rb1,Nc3,Qe1,Nxb1,Qxb1,Rc1,Qb3,Qc3,Qxd5+,Kf8,Bd6+,Ke8', 'Qe6+,Kd8,Qe7#', 'https://lichess.org/training/4hWn5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4HwzO', 'Rapid', 'Chesspro76', 1685, 'iphilhappy', 1744, 'd4,d5,Nc3,Nf6,Bf4,c6,h3,e6,a3,Nbd7,Nf3,c5,dxc5,Bxc5,e3,O-O,Bd3,Re8,Be5,Nxe5,Nxe5,Bd6,Nf3,e5,Bb5,d4,Bxe8,dxc3,Bxf7+,Kxf7,Nxe5+,Kg8,b3,Qc7,Nf3,Bd7,O-O,Bc6,Nd4,Bd7,Qf3,Rf8,Qe2,Ne4,Qd3,Bh2+,Kh1,Nxf2+,Rxf2,Rxf2,Nf3,Bxh3,Nxh2,Bxg2+,Kg1,Qf7', 'Qd8+,Qf8,Qxf8+,Rxf8,Kxg2', 'https://lichess.org/training/4HwzO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4hYM7', 'Rapid', 'remziatas', 1965, 'Senkisem', 1927, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,e5,Nge2,Nc6,d5,Ne7,Qd2,Nh5,g4,Nf6,h4,c6,h5,cxd5,cxd5,Qc7,hxg6,fxg6,Bh6,Bxh6,Qxh6,Rf7,g5,Ne8,O-O-O,b5,Kb1,b4,Na4,Qa5,b3,Bd7,Nb2,Rc8,Nc4,Qc5,f4,Bb5,Nc1,exf4,Nd3,Qd4,Be2,Qxe4,Bg4,Bxc4,bxc4,Rxc4', 'Be6,Qxe6,dxe6', 'https://lichess.org/training/4hYM7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4hyNR', 'Classical', 'nesekas', 1884, 'NGANGOU', 1906, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,Bc4,e6,O-O,Be7,c3,h6,Ne5,Bh7,Bd2,Nbd7,Nf3,a5,Bb3,b5,Be3,a4,Bc2,O-O,Bxh7+,Kxh7,Qc2+,Kg8,Rfe1,Nd5,Bd2,Qb8,h3,c5,dxc5,Bxc5,Ne2,Rc8,Rec1,a3,b3,Qb6,Rf1,Rc6,Rac1,Rac8,Qd3,Rd6,Qb1,f6,Ned4,Ne5,Nxe5,fxe5,Ne2,Nf6,Be1,e4,Kh1,Rd3,f3,Rcd8,fxe4,Nxe4,Nd4,Bxd4', 'Qxd3,Be3,Qxe4', 'https://lichess.org/training/4hyNR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4i4V2', 'Rapid', 'Wicktor13', 1709, 'mucho_autismo', 1708, 'd4,d5,Bg5,f6,Bf4,c5,dxc5,e5,Bg3,Bxc5,Nc3,Be6,Qd3,a6,O-O-O,e4,Qd2,Ne7,Nxe4,Qb6,Nxc5,Qxc5,e4,d4,Qxd4,Qg5+,Kb1,Nbc6,Qb6,O-O,Bd6,Rfd8,Qxb7,Qa5,b3,Nb4,Qxb4', 'Qxb4,Bxb4,Rxd1+,Kb2,Rxf1', 'https://lichess.org/training/4i4V2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4i5mU', 'Rapid', 'blindfold100', 1670, 'Manish_TRP', 1684, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qa5,d3,Bb4,Bd2,Nf6,a3,Bd6,Ne4,Qd5,Nxf6+,gxf6,Be2,Bd7,c3,Nc6,Qc2,O-O-O,O-O,Rhg8,g3,Bg4,c4,Qe6,b4,Bxf3,Bxf3,Nd4,Qd1,f5,Bd5,Qf6,Qa4,c6,Bg2,Kb8,c5,Bc7,Rab1,f4,b5,Nxb5,Rxb5,cxb5,Qxb5,f3,Bh1,h5,Rc1,h4,c6,b6', 'Qa6,Qxc6,Rxc6', 'https://lichess.org/training/4i5mU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4i5pO', 'Rapid', 'khaledOYE', 1615, 'Anubis60256', 1622, 'd4,d5,Nc3,Nf6,e3,e6,Bb5+,Bd7,Bxd7+,Qxd7,Bd2,Be7,Qe2,Nc6,Nf3,a6,O-O-O,h6,h4,O-O-O,h5,Ne8,a4,Nd6,a5,Nxa5,Nxd5,exd5,Bxa5,Nc4,Bc3,Qa4,Kb1,Qb5,Ne5', 'Na3+,Ka2,Qxe2', 'https://lichess.org/training/4i5pO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4i6gQ', 'Rapid', 'DaniFish', 1968, 'usas', 1884, 'd4,e6,Bf4,d6,e4,Be7,Nf3,Nf6,Bd3,O-O,O-O,h6,c3,a6,Nbd2,b5,e5,Nd5,Bg3,Bb7,Ne4,Nc6,a4,f5,exf6,Nxf6,axb5,axb5,Qb3,d5,Nxf6+,Bxf6,Bxb5,Rb8,Bxc6,Bxc6,Qc2,Bb5,Rfe1,Bc4,Rxe6,Qd7,Rae1,Qb5,b4,Rf7,Ne5,Bxe5,R6xe5,Bd3,Qd2,Ra8,Re8+', 'Rxe8,Rxe8+,Qxe8', 'https://lichess.org/training/4i6gQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4I9BM', 'Bullet', 'FM jhedigm', 2301, 'jugando90', 2200, 'Nf3,e6,g3,d6,Bg2,Nf6,O-O,e5,d3,e4,c4,exf3,exf3,c6,Nc3,Be7,Re1,O-O,d4,d5,c5,b6,cxb6,axb6,Bf4,Bb7,Be5,Nbd7,f4,Nxe5,fxe5,Ne4,Nxe4,dxe4,Bxe4,g6,Qd3,Rb8,Rad1,c5,d5,Re8,h4,Bf8,Qf3,Rxe5,d6,Bxe4,Rxe4,Rxe4,Qxe4,Bg7,b3,Qd7,h5,Rd8,Qd5,Bf8,hxg6,hxg6,Qg5,Bxd6,Rd3,Qe7,Qd2,Kf8,Qc2,Bc7,Qc3,Rxd3', 'Qh8#', 'https://lichess.org/training/4I9BM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ianv', 'Rapid', 'guilhermelucas', 1967, 'bratancb', 2006, 'd4,Nf6,c4,e6,Nf3,b6,Bg5,Bb7,Nc3,Be7,Bxf6,Bxf6,e4,d5,e5,Be7,Bd3,c5,h4,cxd4,Nxd4,O-O,Nf3,dxc4,Bxc4,Qxd1+,Rxd1,Bxf3,gxf3,Bb4,Ke2,Bxc3,bxc3,Nc6,f4,Rfd8,Bb5,Na5,Ke3,h6,Ke4,Rac8,Rd6,Rxd6,exd6,Kf8,Rd1,Rd8,Ke5,Nb7,a4,Nc5,h5,Nd7+,Bxd7,Rxd7,Rd4,Ke8,Rc4,Rb7,Rc8+,Kd7,Rg8,Kc6,Rxg7,Rd7,Rh7', 'f6+,Kxe6,Rxh7', 'https://lichess.org/training/4ianv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Icp7', 'Rapid', 'crisvc', 1784, 'sliva6719', 1812, 'e4,e5,Nc3,Bb4,g3,Nf6,Bg2,d6,h3,O-O,Nge2,Nc6,O-O,Be6,a3,Bc5,Na4,Qd7,Nxc5,dxc5,Kh2,Rad8,d3,h6,f4,Nxe4,Bxe4,Bxh3,Bg2,Bg4,Qe1,Qf5,fxe5', 'Qh5+,Kg1,Bxe2', 'https://lichess.org/training/4Icp7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4IDDE', 'Classical', 'MuktinathPokharel', 1731, 'Trusty104', 1653, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Bc5,d3,Qf6,Nc3,Bb6,Nd5,Qg6,a3,Nf6,Nxb6,axb6,h3,d6,c3,Bxh3,Nh4,Qg4,Qxg4,Bxg4,f3,Bd7,f4,O-O-O,Bxf7,Rdf8,Bb3,Nh5,Ng6,Nxf4,Nxh8', 'Ne2+,Kh2,Rxf1', 'https://lichess.org/training/4IDDE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4IDLD', 'Rapid', 'Couch_warrior', 1714, 'kj222000', 1696, 'c4,c6,d4,d5,cxd5,cxd5,Nc3,Nc6,Nf3,e6,a3,Bd6,e3,Nf6,Bd3,e5,Bb5,e4,Ne5,Bxe5,dxe5,Ng4,Nxd5,Nxe5,Nb4,Bd7,O-O,O-O,f4,Nxb4,Bxd7,Nbd3,Bb5,Ng4,Qxg4,Qb6,Bxd3,exd3,Rd1,d2,Bxd2,Qxb2,Bb4,Rfe8,Qf3,Rad8,Qf2,Qf6,Rxd8', 'Qxa1+,Qf1,Qxf1+,Kxf1,Rxd8', 'https://lichess.org/training/4IDLD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4IEls', 'Blitz', 'almanzor1', 1902, 'uchija_sharingan', 1674, 'd4,Nc6,d5,Nb8,c4,d6,Nc3,Nf6,e4,g6,Nf3,Bg7,Be2,O-O,O-O,c6,Bg5,Nbd7,Rc1,h6,Bh4,g5,Bg3,Ne8,dxc6,bxc6,Nd4,Bb7,b4,e5,Nf5,a5,a3,axb4,axb4,Ndf6,f3,Qb6+,Bf2,Qc7,c5,dxc5,bxc5,Nh5,Bc4,Rd8,Qb3,Nf4,Rfd1,Rxd1+,Rxd1,Bc8,Nd6,Nxd6,cxd6,Qd7,Bc5,Ne6,Bxe6,fxe6,Na4,Rf7,Nb6,Qb7,Qa3,Bf8,Nxc8,Qxc8,d7,Rxd7,Rxd7,Bxc5+,Qxc5,Qxd7,Qxe5,Kf7,Kf2,Qd2+,Kg3', 'Qe1+,Kh3,Qh4#', 'https://lichess.org/training/4IEls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4iFTI', 'Blitz', 'PogbaLottin', 1571, 'Bogdan86', 1606, 'e4,e5,Nf3,d6,Bc4,Nf6,Ng5,d5,exd5,Bd6,O-O,O-O,d3,h6,Ne4,Nxe4,dxe4,a6,Nc3,Nd7,Ne2,Nf6,Ng3,b5,Be2,Bb7,f3,c6,Nf5,cxd5,Qe1,dxe4,Qg3,Nh5,Nxh6+,Kh7,Qh3,g6,fxe4,Nf4,Bxf4,exf4,Nxf7+,Kg7,Nxd8,Raxd8,Qh4,Rh8,Qe1,Bxe4,Bd3,Bc5+,Kh1', 'Rxh2+,Kxh2,Rh8+,Qh4,Rxh4#', 'https://lichess.org/training/4iFTI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4IFzt', 'Rapid', 'pablocass', 1778, 'czadu', 1743, 'e4,e5,Nf3,Qf6,Be2,h6,O-O,Qg6,Nc3,Bb4,d3,Bxc3,bxc3,d6,Ba3,Nf6,Nd2,Bh3,Bf3,Nc6,Re1,O-O,g3,Bg4,Bxg4,Nxg4,Nc4,Rfd8,Qd2,Nf6,Ne3,d5,exd5,Nxd5,Nxd5,Rxd5,Rad1,Ra5,Qc1,a6,Qb2,Rb8,Bb4,Rb5,a3,Qf6,c4,Rb6,c5,Rb5,c4,Rxb4,axb4,Nd4,Re4,Nf3+,Kh1,Nd4,b5', 'Qf3+,Kg1,Qxd1+', 'https://lichess.org/training/4IFzt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ihVh', 'Blitz', 'graemes', 1995, 'anirbanwbcs', 1738, 'Nf3,Nc6,d4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,e3,h6,Bh4,b6,Bd3,Ba6,b3,O-O,cxd5,Bxd3,Bxf6,Bxf6,dxc6,Bg6,b4,a6,O-O,Qd6,d5,Bxc3,Rb1,exd5,Rb3,Bf6,Qe2,Qxc6,Rd1,Rfd8,Nd4,Qb7,Rc1,Re8,Qf3,Be4,Qg3,c5,bxc5,b5,c6,Qc7,Qxc7,Rac8,Qb6,Re5,Qxa6,Rce8,c7,Rg5,c8=Q,Rxg2+,Kf1,Rxc8,Rxc8+,Kh7,Qxb5,Rxh2,Ke2,Bh4,Kd2,Rxf2+,Kc3,Bf6,Kb4,Be7+,Ka4', 'Rxa2+,Ra3,Rxa3#', 'https://lichess.org/training/4ihVh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4iIJG', 'Rapid', 'Jan_XD', 1974, 'kokolanski', 1968, 'd4,d5,Nc3,Nf6,Bf4,a6,e3,Bf5,f3,h6,Qd2,e6,O-O-O,Bb4,g4,Bh7,Bd3,Bxd3,Qxd3,Bxc3,Qxc3,Nbd7,Ne2,c6,h4,Qb6,g5,Nh5,Bd6,Qb5,Rd2,Nb6,b3,Nd7,e4,a5,exd5,Qxd5,Be5,O-O-O,a4,Nxe5,dxe5,Qxd2+,Qxd2,Rxd2,Kxd2,Rd8+,Kc1,c5,Rd1,Rxd1+,Kxd1,hxg5,hxg5,g6,Kd2,Kc7,Kc3,Kc6,Kc4,Ng7,Nc3,Nf5,Nb5,Ne3+,Kd3,Nf5,c4,Nd4', 'Nxd4+,cxd4,Kxd4', 'https://lichess.org/training/4iIJG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4iISy', 'Rapid', 'ASPERTUS', 2205, 'zolzanek', 2204, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Bc5,c3,b5,Bb3,h6,O-O,O-O,d4,Bb6,dxe5,Nxe4,Be3,Bxe3,fxe3,Qe7,Nd4,Qxe5,Nxc6,dxc6,Bxf7+,Rxf7,Qd8+,Kh7,Rxf7,Ng5,Qe7', 'Nxf7,Qxe5,Nxe5', 'https://lichess.org/training/4iISy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ijLX', 'Rapid', 'mnki', 1946, 'chuifoutu', 1972, 'e4,d5,e5,c5,c3,d4,Bc4,Nc6,e6,fxe6,Qh5+,g6,Qxc5,e5,Qd5,Qxd5,Bxd5,Nf6,Bxc6+,bxc6,cxd4,exd4,Nf3,c5,d3,Bg7,b3,Ba6,O-O,Bxd3,Re1,c4,Ba3,Nd5,bxc4,Bxc4,Nbd2,Ba6,Rac1,Bf6,Ne4,Kf7,Nc5,Bc8,Ne5+,Kg7,Nc6,Re8,Nb3,d3,Nd2,Bf5,Rc5,Nf4,Rc4,Ne2+,Kf1,Bc3,Rxc3,Nxc3,Nxe7,Ne2,Bb2+,Kf7,Nxf5,gxf5,Nf3,Rab8,Be5,Rb5,Bd6,Rb2,Ne5+,Kf6,Nxd3,Rxa2,f4,Re6,Be5+,Ke7,Rxe2,Rxe2,Kxe2,a5,Kd2,Rc6,h3,a4,Nb4,Rc8,g4,Ke6,Na2,Rc6,Nb4,Rc4,Nc2,Rc8,Kc1,Rc4,Kb2,Re4,Ka3,Rc4,Nb4,Rc1,Kxa4,Rh1,g5,Rxh3,Nc2,Kf7,Kb5,h6,Nd4,hxg5,fxg5,Rh1,Kc5,Kg6,Bf6,f4,Ne2,Rf1,Kd4,f3,Ng3,Re1,Ne4', 'Rxe4+,Kxe4,f2', 'https://lichess.org/training/4ijLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ImkT', 'Blitz', 'FM jerom5588', 2620, 'teddybear1', 2661, 'Nf3,d6,g3,e5,d3,f5,c4,Nf6,Nc3,g6,Bg5,h6,Bxf6,Qxf6,Bg2,Bg7,Nd2,O-O,O-O,c6,Rb1,Be6,Qc2,Nd7,b4,e4,Rfc1,d5,Na4,Qe5,e3,exd3,Qxd3,dxc4,Nxc4,Qf6,Nc5,Nxc5,bxc5,Rad8,Nd6,Qe7,Qc2,b6,Bxc6,bxc5,Nc4,Qc7,Bf3,Rb8,Rd1,Rxb1,Rxb1,Rb8,Rd1,Rd8,Rb1,Rb8,Rd1,Kh7,Bd5,Bxd5,Rxd5,Rd8,Qd3,Rxd5,Qxd5,Qe7,h4,h5,a4,Qc7,a5,Qe7,Kg2,Qc7,a6,Qe7,Qb7,Qe6,Qb5,Qd5+,Kh2,Kh6,Qb3,Qe6,Qa2,Qd5,Qc2,Qe6,Nd2,Qxa6,Nf3,Bf6,Qxc5,Qe2,Kg2,Qa6,Qf8+,Bg7,Qd8,Qb6,Qe8,Bf6,Qf8+,Bg7,Qf7,Bf6,Qg8,Qb7,Qf8+,Bg7,Qc5,Kh7,Qa5,Bf6,Qc5,a6,Qa5,Be7,Qe5,Bd8,Qd4,Bb6,Qd1,a5,Kh2,Bc5,Ng5+,Kh6,Qd8,Qg7,Qe8,Be7', 'Nf7+,Kh7,Qxe7,Kg8,Qe8+', 'https://lichess.org/training/4ImkT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4imm4', 'Rapid', 'NoahCogollo', 1704, 'Tohir1981', 1678, 'e4,e5,Nf3,d6,d4,f6,dxe5,fxe5,Nxe5,dxe5,Qh5+,g6', 'Qxe5+,Qe7,Qxh8', 'https://lichess.org/training/4imm4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4IpdY', 'Rapid', 'Alexey_Golovchenko', 2244, 'gilzzza', 1791, 'd4,e6,e4,d5,e5,c5,c3,Ne7,Bd3,Ng6,Nf3,c4,Bc2,Be7,O-O,f6,exf6,Bxf6,Bxg6+,hxg6,Qc2,Kf7,Re1,Nc6,Bf4,b5,Nbd2,b4,Ne5+,Nxe5,Bxe5,Bxe5,Rxe5,bxc3,bxc3,Rb8,Nf3,Qf6,Rae1,Rb6,Rg5,Rh6,Ne5+,Kg8,Rxg6,Qh4,Rxh6,Qxh6,Re3,Rb7,Rh3,Qg5,Qh7+,Kf8,Rf3+,Ke7,h4,Qh6,Rf7+,Kd6,Qg8', 'Rb1+,Kh2,Qxh4#', 'https://lichess.org/training/4IpdY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ISko', 'Rapid', 'Inzhir', 1798, 'viktor65', 1841, 'e4,e5,Nf3,Nc6,Bc4,Nf6,c3,Be7,d4,Nxe4,Qd3,Nd6,dxe5,Nxc4,Qxc4,d5,Qb5,a6,Qb3,Bg4,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/4ISko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4iT4X', 'Blitz', 'FM AlvinM', 2417, 'Dani_Algorbi', 2393, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Bg5,Nc6,g4,Nd7,Be3,e5,d5,Nd4,h4,c5,h5,a6,a4,Rb8,Ra2,f5,hxg6,hxg6,gxf5,gxf5,exf5,Nxf5,Ne4,Nxe3,fxe3,Nf6,Ng5,Bf5,Bd3,e4,Be2,Qd7,N1h3,b5,axb5,axb5,Nf4,bxc4,Nfe6,Ra8,Rxa8,Rxa8,Rg1,c3,bxc3,Ne8,Nxg7,Qxg7,Nh3,Bg6,Nf4,Qxc3+,Kf2,Ra3,Rxg6+,Kf7,Rg3,Nf6,Qg1,Ra1,Rg7+,Ke8,Qg6+,Kd8,Rg8+,Nxg8,Qxg8+,Kc7,Ne6+,Kb6,Qb8+,Ka5', 'Qb5#', 'https://lichess.org/training/4iT4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4IX3E', 'Rapid', 'gorsaakyan', 1849, 'Sardoix', 2112, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bb5+,c6,Ba4,Bd6,h3,O-O,Qf3,b5,Bb3,a5,a3,Re8+,Be3,Qb6,Nge2,Be6,O-O,Nbd7,Nf4,Bxf4,Bxf4,Qxd4,Rfe1,Qb6,Qg3,Nh5,Qh2,Nxf4,Qxf4,Nf6,Re2,a4,Ba2,d4,Bxe6,fxe6,Ne4,Nxe4,Rxe4,c5,Rae1,Re7,Qg4,Rae8,f4,c4,Kh1,d3,cxd3,cxd3,Rd1,Rd8,Qg5,Qd6,Qxb5,d2,Re2,Qxf4,Qa5,Red7,Rxe6,Qc4,Qe5,Qc1', 'Re8+,Kf7,Qe6#', 'https://lichess.org/training/4IX3E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Ix6C', 'Rapid', 'joseto', 1988, 'monomorphism', 1941, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Nf6,Nc3,Nxd5,Bb5+,Bd7,Qa4,Nb6,Bxd7+,N8xd7,Qe4,e6,d4,Qc8,Nf3,Be7,O-O,O-O,Be3,Nf6,Qd3,Nbd5,Rac1,Qd8,Bg5,h6,Bh4,Re8,Nxd5,Qxd5,Rfe1,Rad8,Bg3,Bb4,Re2,Qa5,a3,Bd6,Bxd6,Rxd6,Rec2,Nd5,Rc8,Red8,Ne5,Nb6,Rxd8+,Rxd8,h3', 'Qxe5,dxe5,Rxd3', 'https://lichess.org/training/4Ix6C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Izpq', 'Blitz', 'jaymemaceio', 2121, 'kelnagarty', 1923, 'Nf3,Nf6,d4,d5,e3,Bf5,Bd3,Ne4,O-O,e6,Nbd2,Bd6,b3,c6,Bb2,Qc7,Ne5,f6,Nef3,g5,g3,h5,Bxe4,dxe4,Ne1,h4,Ng2,hxg3,fxg3,Bxg3,hxg3,Qxg3,Qe1,Qh2+,Kf2,g4,Rg1,g3+,Ke2,Bg4+,Kf1,Bf3,Ba3,Nd7,Bd6,e5,dxe5,fxe5,Nc4,O-O-O,Nxe5,Nxe5,Bxe5,Rhf8,Bf4,Rxf4,exf4,Re8,Qe3,Bxg2+,Rxg2,Qh1+,Rg1,g2+,Ke2,Qh5+,Kd2,Qa5+,c3,Qa3,Kc2,c5,Rxg2,c4,Rg7,cxb3+,axb3,Qxa1', 'Qc5+,Kb8,Qc7+,Ka8,Qxb7#', 'https://lichess.org/training/4Izpq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4J9R2', 'Rapid', 'alammortoz', 1812, 'for-fun163', 1732, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,a6,Ba4,O-O,d4,exd4,cxd4,Ba7,Nc3,d6,Bg5,h6,Bh4,Qe8,d5,b5,Bc2,Ne5,Nxe5,dxe5,Qf3,Ng6,Bg3,Bd7,Qe2,f5,exf5,Bxf5,Bxf5,Rxf5,Kh1,Nf4,Qe4,Qd7,Rfe1,Bd4,Rad1,Raf8,Ne2,Nxe2,Qxe2,Qxd5,b3,c5,f3,g5,Bf2,h5,Bxd4,cxd4,Qe4,Qc5,Rc1,Qb4,Qd5+,Kh7,Rxe5,Qd2,Rce1', 'Qxe1+,Rxe1,Rxd5', 'https://lichess.org/training/4J9R2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ja6J', 'Rapid', 'psbule', 1783, 'sh10928', 1768, 'e4,c5,c4,Nc6,Nf3,d6,Nc3,Nf6,d3,g6,Be2,Bg7,a3,O-O,h3,a6,O-O,e6,Bg5,Rb8,a4,Qc7,Qd2,Nd7,Bh6,Nde5,Nxe5,Nxe5,f4,Nc6,Bxg7,Kxg7,f5,exf5,exf5,Bxf5,Qg5,Qe7', 'Rxf5,Qxg5,Rxg5', 'https://lichess.org/training/4ja6J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Jb8i', 'Rapid', 'Nitolas', 1688, 'kanti2001', 1655, 'e4,e5,Nc3,Nf6,Bc4,Bb4,d3,Nc6,Bd2,d6,Nf3,Bg4,O-O,O-O,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Kg2,Nd4,Qe1,Nxf3,Qe3,Bxc3,Bxc3,Qh4,Rh1,Bh3+', 'Rxh3,Qg4+,Rg3', 'https://lichess.org/training/4Jb8i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4jC88', 'Classical', 'Tshidiso', 1655, 'andrespbro', 1624, 'e4,c5,Bc4,Nf6,Nc3,e6,d3,d5,e5,dxc4,exf6,Qxf6,Nf3,cxd3,Qxd3,Be7,Bg5,Qf5,Qxf5,exf5,Bxe7,Kxe7,O-O,Re8,Rfe1+,Kf8,Rxe8+,Kxe8,Re1+,Be6,Nd5,Kd7,Ne5+,Kd6,Nf4,Bxa2,Nxf7+,Kc6,Nd8+,Kd7,Nxb7,Na6,Rd1+,Kc7,Na5,Kb6,Ra1,Re8,h3,Bf7,b3,Nb4,c3,Nc2,Rc1,Ne1,Nc4+,Kc6,Kf1,g5,Ne2,Nd3,Rd1,Ne5,Rd6+,Kc7,Rf6,Bxc4,bxc4,Nxc4,Rxf5,h6', 'Rxc5+,Kb6,Rxc4', 'https://lichess.org/training/4jC88');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4jCGP', 'Rapid', 'RAY_recososa', 2032, 'monicoeduardo', 2004, 'e4,c5,Nf3,Nc6,b4,cxb4,d4,d5,exd5,Qxd5,c4,Qe4+,Be2,Bg4,O-O,O-O-O,Be3,e6,Nbd2,Qf5,Qa4,a6,d5,exd5,h3,Bxh3,gxh3,Qxh3,cxd5,Rxd5,Ne4,Bd6,Rad1,Qg4+,Ng3,Bxg3,Ne5,Qh3', 'Bg4+,Qxg4,Nxg4', 'https://lichess.org/training/4jCGP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4jchb', 'Blitz', 'ranjbar1234', 2187, 'FM jposthuma', 2303, 'e4,c6,Nf3,d5,Nc3,Nf6,exd5,cxd5,d4,Nc6,h3,Bf5,Bd3,Bxd3,Qxd3,e6,O-O,Bd6,Bg5,a6,a3,Qc7,b4,Rc8,b5,Nxd4,Bxf6,gxf6,Nxd5,Nxf3+,Qxf3,exd5,Qxf6,Rg8,Rfe1+,Kf8,Rad1,Re8', 'Qh6+,Rg7,Rxe8+,Kxe8,Qxg7', 'https://lichess.org/training/4jchb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4jeaa', 'Rapid', 'pavelpavel', 1822, 'August_Lenz', 1680, 'e4,d6,d4,c6,Bd3,g6,Ne2,Bg7,O-O,Nd7,c3,e6,f4,c5,Be3,cxd4,cxd4,b6,Nbc3,Bb7,Ng3,Ne7,f5,exf5,exf5,O-O,fxg6,fxg6,Qe2,Nd5,Nxd5,Bxd5,b3,Qe7,Rae1,Rae8,Bd2,Bxd4+,Kh1,Rxf1+,Rxf1,Qxe2,Bxe2,Be5,Bg4,Nc5,b4,Ne4,Nxe4,Bxe4,h3,d5,Re1,Bg3,Rf1,Rf8', 'Be6+,Kg7,Bc3+', 'https://lichess.org/training/4jeaa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4jGS7', 'Classical', 'Seifollahfeizi', 1756, 'jas37', 1779, 'd4,e6,Nf3,Nc6,Bf4,h6,e4,g5,Bg3,Nf6,e5,Ne4,Bd3,Nxg3,fxg3,g4,Nh4,Nxd4,Qxg4,Bb4+,c3,Bxc3+,Nxc3,Nf5,Bxf5,exf5,Nxf5,d6,Ng7+,Kf8,Qf4,Kxg7,O-O-O,Qg5,exd6,Bg4,Rd5,Qxf4+,gxf4,cxd6,Rxd6,Rhc8,h3,Be6,g4,Bxa2,g5,hxg5,Rg1,Be6,Rxg5+,Kh6,Kd2,Rd8,Ne4', 'Rxd6+,Nxd6,Rd8,Kc3,Rxd6', 'https://lichess.org/training/4jGS7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4JhtR', 'Rapid', 'Tihany', 1759, 'Dmytro_Churylov', 1702, 'e4,b6,d4,Bb7,d5,d6,Bd3,Nd7,c4,e6,Nc3,Nc5,Nf3,Nxd3+,Qxd3,e5,O-O,Nf6,Be3,h6,h3,Be7,Nd2,Qd7,a3,g5,Qe2,g4,hxg4,Nxg4,Nf3,O-O-O,b4,Rdg8,a4,Nxe3,Qxe3,Rg4,a5,Rhg8,g3,Bh4,Qxh6,Rxg3+,fxg3,Rxg3+,Kh1', 'Qh3+,Nh2,Qg2#', 'https://lichess.org/training/4JhtR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4JJT1', 'Rapid', 'oomatko', 2094, 'joseantonio3', 1996, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Nc6,Bf4,e6,Nf3,Bd6,Ne5,Bxe5,dxe5,Nd7,Qe2,a6,Nd2,Qc7,Nf3,O-O,Bg3,Nc5,Bc2,b5,O-O,Bb7,Bxh7+,Kh8,Bc2,Qe7,Bh4,Qc7,Ng5,g6,Nf3,Nd7,Rae1,Rac8,Qe3,Kg7,Qf4,Rh8,Bg3,d4,Nxd4,Nxd4,Qxd4,Rh5,Be4,Nc5,Bxb7,Nxb7,Rd1,Rd8,Qg4,Qc5,Rxd8,Nxd8,Rd1,Nc6,Qe2,Nxe5,Qd2,Nc4,Qc2,Kh7,b3,Na3,Qb2,b4,c4,Qf5,Rd8,e5,Bxe5', 'Qxe5,Qxe5,Rxe5', 'https://lichess.org/training/4JJT1');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 3;
-    }
-
-}
\ No newline at end of file
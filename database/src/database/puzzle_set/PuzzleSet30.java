@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet30 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qUcKn', 'Rapid', 'umano', 2090, 'Xilften1', 1965, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,e3,O-O,Bd3,dxc4,Bxc4,c5,O-O,a6,a4,Qc7,Qe2,Nc6,d5,exd5,Nxd5,Nxd5,Bxd5,Nb4,Bc4,Bf6,Rd1,Bf5,e4,Bg4,Ra3,Rad8,h3,Rxd1+,Qxd1,Rd8,Qe2,Bh5,e5,Bxf3,Rxf3,Qxe5,Re3,Qd6,Re8+,Rxe8', 'Qxe8+,Qf8,Bxf7+,Kh8,Qxf8#', 'https://lichess.org/training/qUcKn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qUcT9', 'Rapid', 'Stas1977tim', 2034, 'UNLEASHED2517', 2038, 'd4,Nf6,c4,e6,Nc3,d5,c5,a6,Bg5,Be7,e3,b6,b4,a5,a3,axb4,axb4,Rxa1,Qxa1,bxc5,bxc5,O-O,Bd3,Nbd7,Nf3,h6,Bh4,c6,O-O,Qc7,Bg3,Qd8,h3,Nh7,Rb1,Ng5,Ne5,Nxe5,Bxe5,f6,Bh2,Nf7,Rb8,e5,Qa8,Qc7,Rb6,Bf5,Qa6,Bxd3,Qxd3,Ra8,Qb1,Qa7,Rxc6,Qa1,Rb6', 'Qxc3,Rb8+,Rxb8', 'https://lichess.org/training/qUcT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QudCz', 'Rapid', 'Schachspieler12345', 1897, 'alwast', 1885, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,Be7,Ne2,c5,c3,Nc6,O-O,cxd4,cxd4,O-O,Nbc3,Re8,Bf4,Qb6,Na4,Qb5,Nec3,Qf5,Be3,Bd7,Qe2,Bf8,Rfd1,a6,Nb6,Rad8,d5,exd5,Ncxd5,Be6,Nc7,Rxd1+,Rxd1,Rd8,Rxd8,Nxd8,Qd1,Qa5,h3,Nc6,Bxc6,bxc6,Qd8,Ne4,a3,h6,b4,Qe5,Nxe6,fxe6,Nd7,Qf5,g4,Qf3,Qb8', 'Qd1+,Kg2,Qxd7', 'https://lichess.org/training/QudCz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QudI0', 'Classical', 'Blackburne527', 1981, 'koepkos', 1834, 'e4,d6,d4,g6,Nf3,Bg7,h3,Nf6,Nc3,O-O,g4,Nc6,g5,Nh5,Bc4,e6,Be3,e5,d5,Na5,Be2,b6,Nh4,Nf4,b4,Nb7,Nf3,Nxh3,Rxh3,Bxh3,Qd2,f5,O-O-O,f4,Rh1,Bg4,Nxe5,fxe3,Qxe3,Bxe2,Qh3,Bh5,Qe6+,Kh8,Nxg6+,hxg6,Qxg6,Qe8', 'Rxh5+,Kg8,Qh7+,Kf7,g6+,Ke7,Qxg7+', 'https://lichess.org/training/QudI0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qudw8', 'Rapid', 'mali_0231', 1672, 'brnmkg', 1737, 'e4,e5,Nf3,d6,Nc3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Bg5,Nxd4,Qxd4,O-O,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/Qudw8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QufNp', 'Rapid', 'ASK357', 1783, 'ptitbill', 1875, 'e4,d6,Nf3,Nf6,Nc3,e5,d4,Nbd7,dxe5,dxe5,Bc4,Be7,Nd5,Nxd5,Qxd5,O-O,Nxe5,c6,Qd4,Qc7,Bf4,c5,Qd3,Bd6,Nxd7,Bxf4,Nxf8,Kxf8,g3,Be5,O-O-O,Bg4,Rd2,Bf6,h3,Bh5,Kb1,Qe5,c3,Rd8,Bd5,Bg6,Re1,a5,Qb5,Qg5,f4,Qxg3,Rdd1,Qxf4,Bxb7,Rb8,Qxc5+,Kg8,Qd5,Qc7,Bc6,Qb6,b3,Bxc3,Rc1,Bf6,Red1,Qf2,Rd2', 'Bxe4+,Qxe4,Qxd2', 'https://lichess.org/training/QufNp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qUfTJ', 'Blitz', 'FM Karadenizaslani', 2326, 'joselitoserna', 2138, 'e4,c5,Nf3,g6,c3,e6,d4,d5,exd5,Qxd5,Na3,a6,Nc4,Nd7,Bd3,b5,Ne3,Qc6,Qc2,Ngf6,Ne5,Nxe5,dxe5,Nd7', 'Be4,Qc7,Bxa8', 'https://lichess.org/training/qUfTJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('quFvd', 'Blitz', 'pakivito33', 1858, 'ramitibi', 1840, 'e3,d5,c4,Nf6,Nc3,c6,d4,Bf5,Qb3,Bc8,Nf3,e6,Bd3,Bd6,O-O,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Nd7,Ng5,Nf6,Bc2,c5,Qd3,g6,Nh3,e5,Bg5,exd4,Qf3,Be7,Nf4,Qb6,b3,Bg4,Qg3,Bd7,h4,Rfe8,h5,Bd6,Bxf6,Bxf4,hxg6,Bxg3', 'gxh7+,Kf8,h8=Q#', 'https://lichess.org/training/quFvd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QUHyq', 'Classical', 'msebadi', 1696, 'TraitorKnight', 1968, 'e4,c5,Bc4,e6,d3,Nf6,a3,d6,Nc3,a6,h3,b5,Ba2,Bb7,Nce2,Nc6,g4,Be7,Nf3,Qc7,Bg5,h6,Bf4,Qb6,Be3,Qc7,Qd2,b4,a4,a5,Bc4,d5,exd5,exd5,Bb5,O-O,g5,hxg5,Bxg5,Nh7,Bxe7,Nxe7,b3,d4,Rg1,Bxf3,O-O-O,Nd5,Rde1,Bxe2,Qxe2,Qf4+,Kb2,Nc3,Qh5,Nf6', 'Rxg7+,Kxg7,Rg1+,Ng4,Rxg4+', 'https://lichess.org/training/QUHyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qUIBk', 'Rapid', 'phenixa', 1865, 'Sergnik', 1798, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bg4,Be2,Bxf3,Bxf3,c6,c4,Nf6,Nc3,e5,d5,cxd5,Nxd5,Nxd5,Bxd5,Nc6,O-O,Bd6,Be3,O-O,a3,Qh4,g3,Qf6,b4,Rab8,Qg4,Ne7,Bg5,Qg6,Be4,f5,Bd5+,Kh8,Qh4,h6', 'Bxe7,Bxe7,Qxe7', 'https://lichess.org/training/qUIBk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qUiZ6', 'Rapid', 'maftio', 1849, 'Chessmoskito', 1895, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,c6,Bd2,Qc7,Bc4,e6,Qe2,Be7,O-O,O-O,Rad1,Nbd7,Ne4,Nb6,Bb3,Bd7,Ba5,Rad8,c4,Qf4,Nxf6+,Bxf6,c5,Nd5,Bxd8,Rxd8,Ne5,Be7,Qg4,Qh6,Rd3,f5,Qd1,Be8,Re1,Nf4,Rde3,Bh5,Qd2,Qg5,Rg3', 'Nh3+,Rxh3,Qxd2', 'https://lichess.org/training/qUiZ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QULPp', 'Rapid', 'Robertuuu', 1787, 'JAIMERANGEL', 1771, 'd4,Nf6,Nc3,e6,a3,b6,Bf4,Bb7,e3,g6,Nf3,Bg7,Bd3,O-O,h3,d6,Qe2,Re8,O-O-O,Nbd7,Bg5,h6,Bh4,c5,dxc5,Nxc5,Bb5,Re7,Bg3,Nfe4,Qc4,Bxc3,bxc3,Nxg3,fxg3,a6,Qf4,Kh7,Be2,Rd7,g4,Rc8,g5,h5,g4,e5,Qf6,Qxf6,gxf6,h4,Rhf1,Ne4,Nxe5,Rdc7,Nf3,Rxc3,Bd3,Rxa3', 'Bxe4,Bxe4,Ng5+,Kg8,Nxe4', 'https://lichess.org/training/QULPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qUMJv', 'Rapid', 'peterjma', 1714, 'r2017', 1726, 'e4,b6,f4,Bb7,Nc3,e6,Nf3,Bb4,d3,Nf6,Qe2,Ba6,Bd2,Bxc3,Bxc3,Bb7,O-O-O,Nc6,Qd2,a5,Ne5,Nxe5,Bxe5,d6,Bxf6,Qxf6,Be2,O-O,Rhf1,b5,g3,c5,Bf3,a4,e5,dxe5,Bxb7,Rab8,Be4,exf4,Rxf4,Qe5,Qf2,a3,c3,axb2+,Qxb2,b4,c4,Qg5,Kb1,b3,a3,Rb6,a4,Rb4,Qa3,Qh5,Rd2,Qh3,Rb2,e5,Rff2,Qd7,a5,Rfb8,a6,Ra4,Qxc5,Rxa6,Qxe5,Qa7,Kc1,Ra1+,Kd2,Qa5+,Qc3', 'Rd1+,Kxd1,Qxc3', 'https://lichess.org/training/qUMJv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qun14', 'Rapid', 'edwartti', 1712, 'HoldTheGround', 1823, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,a6,Qa4+,Bd7,Qd4,Nc6,Qc3,e5,Na3,d5,exd5', 'Bb4,dxc6,Bxc3+', 'https://lichess.org/training/qun14');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qun3J', 'Classical', 'zengan72', 2009, 'MakesYouThinkYouLost', 1867, 'c4,f5,d4,Nf6,Nc3,e6,Bg5,Be7,e3,b6,Nf3,O-O,Bd3,Bb7,O-O,d6,Re1,Na6,a3,Qe8,Qe2,Nb8,Rac1,Qg6,Bf4,Ne4,Bxe4,fxe4,Nd2,Rxf4,exf4,e3,fxe3,Nd7,Nf3,Nf6,b4,Ng4,d5,exd5,cxd5,Bf6,e4,Re8,Qd3,Qh6,f5,Bg5,Nxg5', 'Qxh2+,Kf1,Qh1+,Ke2,Qxg2+,Kd1,Nf2+,Kc2,Nxd3+', 'https://lichess.org/training/qun3J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('quNAA', 'Rapid', 'Lamentira', 1981, 'Gambitmat86', 1962, 'Nf3,c5,e3,d5,d4,Bg4,Be2,e6,c4,Nc6,cxd5,exd5,dxc5,Bxc5,a3,Nf6,b4,Bb6,Bb2,O-O,O-O,a5,b5,Nb8,a4,Nbd7,Nd4,Bxe2,Qxe2,Rc8,Nd2,Nc5,Rac1,Ne6,N2b3,Nxd4,Bxd4,Re8', 'Rxc8,Qxc8,Bxb6', 'https://lichess.org/training/quNAA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QuNBl', 'Classical', 'kondukator0', 2140, 'MatheusKO', 2047, 'd4,d5,Bf4,Nf6,e3,Bf5,Bd3,Bg6,Nf3,e6,O-O,Bd6,Bg3,Ne4,Nc3,Nxg3,hxg3,a6,a3,Nd7,e4,dxe4,Nxe4,Be7,Ne5,Nxe5,dxe5,Qd7,f4,Qd4+,Kh2,Bxe4', 'Bb5+,axb5,Qxd4', 'https://lichess.org/training/QuNBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QUNNT', 'Rapid', 'Galstian', 1773, 'lrsveser', 1781, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,Ng4,O-O,Nc6,Ng5,Bxf2+,Rxf2,Nxf2,Kxf2,Qf6+,Kg1,O-O,a3,Ne7,Be3,Ng6,Nc3,Nf4,Nf3,Qg6,Bxf4,exf4,Nd5,Qd6,Qf1,c6,Nc3,b5,Bb3,Bb7,Ne2,c5,Nh4,c4,dxc4,bxc4,Bxc4', 'Qc5+,Qf2,Qxc4', 'https://lichess.org/training/QUNNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QuOHP', 'Rapid', 'steinkorko', 1670, 'thorgsi', 1681, 'd4,d5,Nc3,Nf6,Nf3,Bf5,Bf4,e6,a3,Bd6,Be5,Bxe5,Nxe5,Nbd7,Nf3,O-O,e3,Ne4,Nxe4,Bxe4,Nd2,Nf6,Nxe4,Nxe4,Be2,Qh4,O-O,f5,f3,Nd6,b3,f4,Qd3,fxe3,Qxe3,Rf6,c4,Nf5,Qd3,Qxd4+,Qxd4,Nxd4,Bd1,Nf5,cxd5,exd5,Re1,Kf7,Bc2,Nd4,Bxh7,g6,Rad1,c5,b4,b6,bxc5,bxc5,Re5,Kg7,Bxg6,Rxg6,Rxd5,Nxf3+,Kh1,Nh4,g3,Nf3,Rxc5,Rf6,Rc7+,Rf7', 'Rxf7+,Kxf7,Rf1,Kg6,Rxf3', 'https://lichess.org/training/QuOHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QUPmf', 'Rapid', 'sidacotel', 1625, 'CRO_CHESS_FAN', 1879, 'd4,d5,Nc3,Nf6,Bg5,e6,f3,Be7,Qd2,h6,Bh4,g5,Bf2,Nbd7,h4,g4,O-O-O,b6,fxg4,Nxg4,Bg3,f5,Nf3,Bb7,Kb1,Ndf6,Ne5,Nxe5,Bxe5,Qd7,e3,a6,Ne2,O-O-O,Nf4,Rhg8,Bd3,Ng4,Qe2,Qa4,Nxe6,Nxe5,dxe5,Rde8,Bxf5,Kb8,Nd4,c5,Nf3,d4,exd4,Bd5,b3,Qa3,dxc5,Bb7,cxb6,Bb4,e6', 'Bc3,Qe5+,Bxe5', 'https://lichess.org/training/QUPmf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QusI7', 'Rapid', 'ayesuck', 1809, 'DedVovka43', 1824, 'e4,c5,c4,b6,d3,Bb7,Nf3,e6,Nc3,g6,Bf4,Nc6,Be2,Nf6,Ne5,Bg7,Nxc6,Bxc6,Qd2,a6,O-O,Nh5,Bxh5,gxh5,Bg5,Bf6,Bxf6,Qxf6,f4,Rg8,e5,Qg6,Rf2,O-O-O,a4,h4,h3,Rg7,Re1,Rdg8,Ree2,f6,exf6,Qxf6,Ne4,Bxe4,dxe4,d6,Qxd6,Rd8,Qxb6,Qg6,Qxa6+,Kb8,Qb6+,Kc8,Qxc5+,Kb8,Qe5+,Kc8,f5,Qg5,Qxe6+,Kb8,Qb6+,Kc8,Qe3,Rd1+,Kh2', 'Qg3+,Qxg3,hxg3#', 'https://lichess.org/training/QusI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('quSvo', 'Classical', 'VagaDama', 1780, 'opti_mistic', 1683, 'e4,d6,d4,g6,Nc3,Bg7,Nf3,Nf6,Bc4,O-O,O-O,Nbd7,a3,c5,d5,Nb6,Be2,Qc7,Bg5,e5,dxe6,Bxe6,Nb5,Qc6,e5,Ne4,exd6,Nxg5,Nxg5,Bd5,f3,h6,Nh3,Bxb2,Rb1,Bg7,Nf4,a6,c4,Bxc4,Bxc4,Nxc4,Nc7,Rad8,Qb3,Nxd6,Ncd5,c4', 'Ne7+,Kh7,Nxc6,cxb3,Nxd8', 'https://lichess.org/training/quSvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qUTPa', 'Blitz', 'dalxadrez', 2089, 'zenbro', 1817, 'e4,d6,d4,g6,Nc3,Bg7,Be3,e5,Nge2,Ne7,Qd2,h5,O-O-O,Nbc6,Kb1,a6,f3,exd4,Nxd4,Bd7,Be2,b5,Nxc6,Nxc6,Nd5,Ne5,b3,c5,Nf4,O-O,Qxd6,Qa5,Bxc5,Rfc8,Bd4,Rc6,Qd5,Rac8,Rc1,Be6,Nxe6,Rxe6,Rhd1,Nc6,Bxg7', 'Nb4,a4,Nxd5', 'https://lichess.org/training/qUTPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('quu0Z', 'Blitz', 'gammadelta', 2400, 'Jodeldiplom', 2408, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,Bc4,Bd6,O-O,O-O,d4,Bg4,Nc3,a6,a4,c5,dxc5,Bxc5+,Kh1,Be3,Bxe3,fxe3,Qd4,Re8,Rae1,Bxf3,Rxf3,Nc6,Qh4,Na5,Bd3,Qb6,b4,Rac8,bxa5,Qxa5,Rxf6,Qxc3,Qxh7+,Kf8,Qh8+,Ke7,Rxe3+,Kxf6', 'Qh4+,g5,Qh6#', 'https://lichess.org/training/quu0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('quUBI', 'Blitz', 'caliche123', 1950, 'visualseven', 1949, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,d4,Bd6,Re1,Qh4,g3,Qh3,Qf3,Bg4,Qg2,Qh5,Bxd5,cxd5,Nd2,Rae8,Re3,Bh3,Qf3,Bg4,Qg2,Bh3,Qf3,Bg4,Qg2,Re6,Nf1,Rfe8,Bd2,Bh3,Qf3,Bg4,Rxe6,fxe6,Qd3,Rf8,f4,g5,fxg5,Rf3,Qc2,Qh3,Be3,Bxg3,Nxg3,Rxg3+,hxg3,Qxg3+,Qg2,Qxe3+,Kh2,Qxg5,Rg1', 'Qh4+,Qh3,Qxh3#', 'https://lichess.org/training/quUBI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QuVDc', 'Rapid', 'Mazhar_here', 1604, 'Ivanhoe123', 1852, 'e4,c6,Nf3,d5,exd5,cxd5,c3,Nf6,d4,Bg4,h3,Bh5,Qb3,Qd7,Bb5,Nc6,Bxc6,bxc6,Bg5,Bxf3,gxf3,e6,Bxf6,gxf6,Nd2,h5,O-O-O,Bh6,Rhg1,Ke7,c4,Rab8,Qa3+,Qd6,Qxd6+,Kxd6,c5+,Kc7,Kb1,Bxd2,Rxd2,Rhg8,Rdd1,Rg5,a3,Rbg8,Rxg5,fxg5,Rd3,f5,b4,Kd7,Kb2,g4,hxg4,hxg4,fxg4,Rxg4,f3,Rg2+,Kb3,Rf2,a4,a6,b5,axb5,axb5,cxb5,Kb4,Kc6,Ra3,Rb2+,Kc3,Rf2,Ra6+,Kd7,Kb4,Rxf3,Kxb5,Rb3+,Ka4,Rd3,Ra7+,Kc6,Ra6+,Kd7,Ra7+,Kc6,Ra6+,Kb7,Rxe6,Rxd4+,Kb5,Rc4,Re7+,Kc8,Kc6,Kd8,Re5,f4,Rxd5+,Kc8,Rf5,Rd4', 'Rf8+,Rd8,Rxf4', 'https://lichess.org/training/QuVDc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qUXLq', 'Rapid', 'kaanny', 1895, 'BatmanBinSuparman', 1857, 'd4,d5,Nf3,Nf6,Nbd2,c6,e3,Nbd7,Bd3,e6,Ne5,Nxe5,dxe5,Nd7,f4,Bc5,Nf3,Qb6,Qe2,d4,exd4,Bxd4,c3,Bc5,b4,Be7,Be3,c5,a3,Qc7,O-O,b6,Rac1,Bb7,Rfd1,O-O,Bb1,Rad8,Nd2,Rfe8,Ne4,Nf8,Rxd8,Rxd8,Rd1,Rxd1+,Qxd1,Qc6,Qd3,Ng6,bxc5,bxc5,c4,f5,exf6,gxf6,Qe2,f5,Ng5,Bxg5,fxg5,Ne5,Bf4,Ng4,h3,e5,hxg4,exf4,Bxf5,f3,Be6+,Kf8,gxf3,Qxf3,Qxf3+,Bxf3,Kf2,Bc6,Ke3,Kg7,Bd5,Bd7,Ke4,Bxg4,Kf4,Bd7,Ke5,Kg6,Kd6,Bg4,Kxc5,Kxg5,Kc6,h5,Kb7,Kf5,Kxa7,Ke5,Bh1,Kd4,a4,Kxc4,a5,Kb5,a6,Bc8', 'Bb7,Bf5,Kb8', 'https://lichess.org/training/qUXLq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('quxUa', 'Rapid', 'tranh', 1922, 'Antiinteligentt', 1899, 'Nf3,c5,c3,d5,e3,Nc6,d4,c4,Nbd2,Nf6,Qc2,g6,e4,dxe4,Nxe4,Nxe4,Qxe4,Bf5,Qh4,b5,Be2,Bg7,Bh6,Bxh6,Qxh6,Qd6,O-O,O-O-O,Rfe1,Bd7,Ng5,Rdf8,Bf3,f6,Ne4,Qc7,Nc5,e5,Nxd7,Qxd7,Bxc6,Qxc6,dxe5,fxe5,Rxe5,Rxf2,Qh3+,Kb7,Re7+,Ka8,Re6,Qc5,Kh1,Rhf8,Ree1,Rxb2,Qxh7,Qg5,Rg1,Qf6,Qh6,Rh8,Qe3,Re2,Qxe2', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/quxUa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QUyjO', 'Classical', 'DONT_WALK_OFF', 1855, 'JMT1', 1759, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bc4,e6,O-O,Nge7,Qe1,Nd4,Nxd4,cxd4,Ne2,O-O,c3,d5,exd5,exd5,Bb3,Nf5,g4,d3,gxf5,dxe2,Qxe2,Bxf5,d4,Re8,Qg2,Be4,Qf2,Qd7,Qg3,Qf5,Bd1,h5,Ba4,Re7,Qg5,Bf6,Qxf5,Bxf5,Bd2,Re2,Rf2,Rxf2,Kxf2,b5,Bxb5,Rb8,a4,a6,Bxa6,Rxb2,Ke3,Rb6,Bd3', 'Re6+,Kf3,Bxd3', 'https://lichess.org/training/QUyjO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('quzN5', 'Blitz', 'gurkann92', 1627, 'vdba2', 1610, 'e4,e5,Nf3,d6,Bc4,c6,d3,f5,Ng5,d5,exf5,dxc4,Qh5+,Ke7', 'Qf7+,Kd6,Ne4#', 'https://lichess.org/training/quzN5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QUzzk', 'Blitz', 'drcaligarius', 1702, 'Dmitry_Voronin', 1704, 'd4,c6,c4,d5,e3,dxc4,Bxc4,e6,Nc3,Nd7,Nf3,Nb6,Bd3,Be7,O-O,Bf6,Qc2,Ne7,Ne5,Bxe5,dxe5,Nbd5,Nxd5,Nxd5,e4,Nb4,Qe2,Qxd3,Qg4,g6,Bh6,Bd7,Qh4,Qe2,Bg7,Rg8,Qf6,Qxe4,Bh6,Qf5,Qh4,g5,Qxb4,Qg6,Qxb7,Rc8,Rfd1,Rd8,Rd6,Qxh6,Rad1,Qh5,Rxd7', 'Qxd1+,Rxd1,Rxd1#', 'https://lichess.org/training/QUzzk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QV3gI', 'Classical', 'greendhess', 1851, 'KeshavRathore14', 1906, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,h3,O-O,Re1,Re8,c3,b5,Bc2,d6,d3,h6,Nbd2,a5,Nf1,Nh5,d4,exd4,cxd4,Ba7,Be3,d5,e5,f5,exf6,Nxf6,Bg6,Re6,Bf5,Re7,Bxc8,Rxc8,Rc1,Qd7,a3,Bb6,Qc2,Re6,Ng3,Ne4,Nxe4,Rxe4', 'Qxc6,Qxc6,Rxc6', 'https://lichess.org/training/QV3gI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qV6CE', 'Rapid', 'Namrob', 2022, 'Sabahattin-1980', 1999, 'e4,g6,d4,Bg7,c3,c6,Bd3,d6,Ne2,Nf6,O-O,O-O,f4,e6,Nd2,Ng4,Nf3,Qb6,Kh1,c5,f5,exf5,exf5,cxd4,Nfxd4,Nc6,h3,Nxd4,Nxd4,Ne5,f6,Bh8,Nc2,Be6,Nd4,Bc4,Bxc4,Nxc4,b3,Ne5,Bh6,Rfe8,Rc1,Rac8,Qd2,Qc5,h4,Ng4,Qf4,Ne5,h5', 'Nd3,Qf3,Nxc1', 'https://lichess.org/training/qV6CE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qV73x', 'Rapid', 'TOTUSTUUS89', 1916, 'Empachers', 1933, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Nc3,Bg7,Bd2,Nf6,e5,Nd5,Nxd5,cxd5,f4,Qb6,Bc3,Bb7,Bd4,Qa5+,c3,O-O,Bd3,d6,O-O,dxe5,Bxe5,Rad8,Bxg7,Kxg7,f5,d4,c4,Qb6,b3,e5,f6+,Kh8,g4,e4,Qd2,exd3,Qh6,Rg8,Rad1,Rd6,g5,Be4,Qh4,Re6,Rf4,Qc6', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/qV73x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qVAoN', 'Blitz', 'Mabaia73', 2377, 'FM H-Aryanejad', 2339, 'e4,d5,exd5,Qxd5,Nf3,Nf6,d4,Qd8,Bd3,c6,O-O,Bg4,c3,e6,Nbd2,Bd6,Qb3,Qc7,Re1,O-O,Ne5,Bxe5,dxe5,Nd5,Nc4,Nd7,f4,Nc5,Qc2,Nxd3,Qxd3,Rad8,Nd6,Bh5,a3,Bg6,Qg3,Rxd6,exd6,Qxd6,Kh1,Nf6,Qf3,Bh5,Qg3,Qd5,Be3,Qb3,Bxa7,b6,c4,Qxb2,Reb1,Qd4,Bxb6,Qxc4,a4,Nd5,a5,Ra8,Rc1,Qa6,Bd4,Bg6,f5,exf5,Qd6,Rc8,Qd7,h6,Rc5,Kh7,h3,Nb4,Rac1,Ra8,Bc3,Nd3,Rxc6,Qb5,Rc2', 'Qb1+,Kh2,Qxc2', 'https://lichess.org/training/qVAoN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qvaPj', 'Rapid', 'molybdenumbubbles', 1670, 'solomon33', 1682, 'd4,Nf6,Nf3,d6,Nc3,Bf5,e4,Bxe4,Nxe4,Nxe4,Qd3,d5,Ng5,Nxg5,Bxg5,h6,Bh4,c5,c4,dxc4,Qxc4,cxd4,Bd3,Nc6,O-O,Rc8,Qc1,Ne5,Qd2,g5,Bg3,Bg7,Rac1,O-O,Rxc8,Qxc8,Rc1,Qg4,h3,Qh5,Bxe5,Bxe5,Qe2,g4,Qe4,f5,Qxe5,gxh3,Qh2,Qg4,g3,f4,Be4,fxg3,Qxg3,Qxg3+,fxg3,b6,Kh2,Rf2+,Kxh3,Rxb2,a4,a5,Kh4,Rb4,Rc8+,Kg7,Ra8', 'd3,Kh5,Rxe4', 'https://lichess.org/training/qvaPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QVB3q', 'Classical', 'MyLordBishop', 2058, 'FEDORMELNIKOV', 1946, 'd4,Nf6,c4,c5,e3,e6,Nf3,Be7,Bd3,O-O,Nc3,d5,cxd5,exd5,dxc5,Bxc5,O-O,Bg4,b3,Nc6,Bb2,Rc8,Nb5,a6,Nc3,d4,Na4,Ba7,h3,Bxf3,Qxf3,b5,Ba3,Ne5,Qb7,bxa4,Qxa7,Nxd3,Bxf8,Kxf8,Rfd1,dxe3,Qxe3,Rc3,Rd2,Nd5,Qd4,N3f4,Qxc3', 'Ne2+,Rxe2,Nxc3', 'https://lichess.org/training/QVB3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QVBoz', 'Rapid', 'Efeergvn', 1654, 'moskwich', 1627, 'e4,b6,d4,Bb7,Nc3,d6,Nf3,Nd7,Bb5,g6,d5,Bg7,O-O,Nf6,e5,dxe5,Nxe5,O-O,Nc6,Qe8,Re1,e6,dxe6,fxe6,Bg5,Qf7,Bxf6,Nxf6,Qf3,a6,Bc4,Nd5,Qxf7+,Rxf7,Ne5,Re7,Rad1,Nxc3,bxc3,b5,Bb3,c5,c4,b4,Ba4,Bh6,Rd7,Kf8,Rxe7,Kxe7,Rd1,Rd8', 'Rxd8,Kxd8,Nf7+,Ke7,Nxh6', 'https://lichess.org/training/QVBoz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QvByb', 'Classical', 'RodrigoRL', 1854, 'flatearthchess', 1756, 'e4,c5,Nf3,d6,c3,Nf6,e5,dxe5,Nxe5,Qd6,d4,cxd4,cxd4,Nc6,Nf3,a6,Be2,Bf5,Nc3,Nb4,O-O,g6,Nh4,Bd7,Nf3,Bg7,Ne5,Bf5,Qa4+,Nc6,Nc4,Qxd4,Be3,Qh4', 'Nd6+,exd6,Qxh4', 'https://lichess.org/training/QvByb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QVCAB', 'Blitz', 'brennancaruthers', 1593, 'dorvilier82', 1674, 'd4,d5,c4,Nf6,Nc3,e6,a3,Be7,b4,O-O,Bb2,Nc6,e3,dxc4,Bxc4,a6,Nf3,b5,Bd3,h6,O-O,Bb7,Ne4,Nxe4,Bxe4,a5,Qd3,axb4,axb4,Rxa1,Rxa1,Nxb4,Qb1,Bxe4,Qxe4,Qd5,Qb1,f5,Ba3,Qc4,Ne5,Qc3,Ng6,Re8', 'Nxe7+,Rxe7,Bxb4,Qxa1,Qxa1', 'https://lichess.org/training/QVCAB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QvdJT', 'Blitz', 'abed2000', 1882, 'haronkhamis99', 1962, 'b3,e6,Bb2,b6,e3,Bb7,Nf3,Nf6,Bb5,a6,Bd3,d5,c4,dxc4,Bxc4,Bd6,d4,Nc6,Bd3,Qd7,O-O,O-O-O,Qe2,e5,Bxa6,exd4,Bxb7+,Kxb7,Nxd4,Nxd4,Bxd4,Rhe8,Nc3,Qf5,a4,Bxh2+,Kxh2,Rxd4,a5,Rh4+,Kg1,Ng4,axb6', 'Rh1+,Kxh1,Qh5+,Kg1,Qh2#', 'https://lichess.org/training/QvdJT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QvDrq', 'Blitz', 'TheCommunist', 1878, 'bkr35', 1846, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Nf3,Nbd7,cxd5,exd5,Bd3,Bd6,O-O,O-O,h3,Re8,a3,Ne4,Qc2,Ndf6,Nd2,Bf5,Re1,Bc7,Nf1,Qd6,f3,Ng3,Bxf5,Nxf1,Rxf1', 'Qh2+,Kf2,Bg3+,Ke2,Qxg2+,Kd3,Qxf1+', 'https://lichess.org/training/QvDrq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qvGIw', 'Rapid', 'WICARCHESS', 1773, 'jujugaga', 1666, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d3,Nc6,Nf3,Bb4+,Nc3,Bf5,Bg5,O-O,Be2,Re8,O-O,h6,Bxf6,Qxf6,Nd5,Qd6,Nxb4,Nxb4,Ne1,Qg6,a3,Nc6,Qb3,Rxe2,Nf3,Bh3,Nh4,Qg4,Qxb7,Ree8,Qxc6,Qxh4,gxh3,Qxh3,Qg2,Qxd3,Rae1,Rxe1', 'Qxa8+,Kh7,Rxe1', 'https://lichess.org/training/qvGIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QvgPI', 'Rapid', 'Ahmad_noroo', 1957, 'LukaNejc', 1945, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,f6,O-O,Bc5,c3,dxc3,Bf7+,Kxf7,Qd5+,Ke8,Qxc5,cxb2,Bxb2,Qe7,Qh5+,g6,Qb5,Qb4,Qe2,d6,Nc3,Bg4,Nd5,Qa5,Nxf6+,Nxf6,Bxf6,Rf8,Bh4,Ne5,Qe3,Bxf3,gxf3,Nxf3+,Kh1,Nxh4,f4,Qh5,Qg3,Ke7,Rad1,Rae8,Rd5,Qh6,Rg5,Rf6,e5,dxe5,Rxe5+,Kd8,Rd1+,Rd6,Rxe8+,Kxe8,Re1+,Kd7,Qh3+,Nf5,Qb3,Qxf4,Qf7+,Kc8', 'Re8+,Rd8,Qe6+,Kb8,Rxd8#', 'https://lichess.org/training/QvgPI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qvhNW', 'Rapid', 'Maximov33', 1677, 'bjk97', 1750, 'e4,e5,d3,Nc6,Be3,h6,Be2,Nf6,Nd2,d6,c4,Be7,a3,a6,b4,Na7,Ngf3,Bd7,a4,Nc6,b5,axb5,axb5,Rxa1,Qxa1,Nb4,Qb2,c5,bxc6,Nxc6,Qxb7,Qa5,O-O,O-O,Nb3,Qa2,Nfd2,Rb8,Ra1', 'Qxa1+,Nxa1,Rxb7', 'https://lichess.org/training/qvhNW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qVHUG', 'Classical', 'Kandratov', 1761, 'Dieren', 1724, 'e4,c5,Nf3,e6,Nc3,d6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Qd2,a6,O-O-O,b5,Qe3,Bb7,e5,Nd5,Bxe7', 'Nxe3,Bxd8,Nxd1', 'https://lichess.org/training/qVHUG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qvhWW', 'Classical', 'Maoc', 1725, 'minimerlin', 1678, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,Qa4+,Nc6,a3,Bxc3+,bxc3,Bd7,Qb3,Na5,Qa2,Nxc4,e3,b5,Bxc4,bxc4,O-O,Ba4,Ne5,Bb3,Qb2,Qd6,f4,O-O,g4,Rab8,Qg2,Ne4,h4,Nxc3,g5,f6,gxf6,Rxf6,h5,Bd1,Bd2,Bxh5,Bxc3,Bg6,Bb4,Rxb4,axb4,Be4,Qh2,Rh6,Qa2', 'Rh1+,Kf2,Rh2+,Kg3,Rxa2', 'https://lichess.org/training/qvhWW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qviDY', 'Blitz', 'allgo', 1510, 'constantin_rust', 1502, 'd4,d5,Nf3,e6,Bf4,c5,e3,cxd4,exd4,Nf6,Bd3,Bd6,Qd2,O-O,Bg5,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,e5', 'Bh7+,Nxh7,Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/qviDY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qvKzM', 'Blitz', 'GM E-Shaposhnikov', 2758, 'IM monalize', 2423, 'e4,c5,Nf3,d6,Bc4,e6,Qe2,Nf6,e5,dxe5,Nxe5,Bd6,b3,O-O,Bb2,a6,a4,b6,O-O,Ra7,f4,Re7,Na3,Bb7,Bd3,Bc7,Nac4,Nd5,Rf3,g6,Raf1,f6,Ng4,Qd7,Be4,Nc6,Qf2,Nd4,Bxd4,cxd4,Qxd4,Kg7,Nge3,Rd8,Bxd5,exd5,Nxb6,Qc6,a5,Re4,Qd3,d4,Nec4,Rde8,h4,h5,Rg3,Kh7,Kh2,Qe6,f5,gxf5,Qf3,Rg4,Qxb7,Rxg3,Qxc7+,Rg7,Qf4,Reg8,Rf2,Rg4,Qf3,f4,Kg1', 'Qe1+,Rf1,Rxg2+,Qxg2,Rxg2+', 'https://lichess.org/training/qvKzM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QVo6q', 'Rapid', 'SharkanovA', 1797, 'vittalsk89', 1797, 'e4,c5,c4,d6,d3,Nc6,Nc3,e6,h3,Nf6,Nf3,Be7,Be2,O-O,Be3,a6,a3,Bd7,O-O,Qc7,Bf4,Rfb8,Bh2,b5,b3,bxc4,bxc4,Nd4,Nxd4,cxd4,Na2,e5,Qc2,Rb7,Rab1,Rab8,Rxb7,Rxb7,Rb1,Qb8,Rxb7,Qxb7,f4,a5,fxe5,dxe5,Bxe5,a4,Bxd4,Qb3,Qxb3,axb3,Nb4', 'Bc5,Bxc5,b2', 'https://lichess.org/training/QVo6q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qvoMw', 'Blitz', 'Omentus64', 1843, 'vipzz15', 1878, 'e4,d6,f4,e6,Nf3,Bd7,d4,Ne7,Bd3,g6,c4,Bg7,Nc3,Nbc6,Be3,f5,exf5,Nxf5,Bxf5,exf5,O-O,O-O,Re1,Re8,Qb3,Rxe3,Rxe3,Nxd4,Qxb7,Nxf3+,Rxf3,Rb8,Qd5+,Kh8,Rb1,c6,Qxd6,Qb6+,c5,Qd8,b3,Rb4,Ne2,h6,h3,Qe8,Ng3,Be6,Re1,Re4,Rxe4,fxe4,Nxe4,Bd5,Nf6,Bxf6,Qxf6+,Kh7,Rf1,Qe3+,Kh1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/qvoMw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qVQVn', 'Blitz', 'forsag', 1507, 'Doncyrleone', 1873, 'd4,f5,c4,e6,Nc3,Nf6,f3,Be7,e4,O-O,e5,Ne8,f4,d6,Nf3,h6,Bd3,b6,O-O,Bb7,Be3,Nd7,Qe2,dxe5,Nxe5,Ndf6,h3,Nd6,g4,Nfe4,Nxe4,Nxe4,Bxe4,Bxe4,g5,hxg5,Qh5,gxf4,Bxf4,Qe8,Ng6,Rf6', 'Qh8+,Kf7,Ne5#', 'https://lichess.org/training/qVQVn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QvrSS', 'Rapid', 'DiblyImp', 1702, 'HeLeZoN', 1698, 'd4,e6,e4,d5,exd5,exd5,Nf3,c5,Nbd2,Nc6,dxc5,Bxc5,Nb3,Bb4+,c3,Bd6,Be2,Nf6,O-O,O-O,g3,Re8,Nbd4,Bh3,Re1,Rc8,Qd3,Nxd4,cxd4,Ne4,Bf1,Qd7,Ng5,Nxg5,Bxg5,h6,Bd2,Qg4,Bxh3,Qxh3,Qb5,Re4,Qxb7,Rc2,Qxd5,Rxe1+,Rxe1,Bxg3,fxg3,Rxd2,Qf3,Qxh2+,Kf1,Rxd4', 'Re8+,Kh7,Qf5+,g6,Qxf7#', 'https://lichess.org/training/QvrSS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qVS6y', 'Rapid', 'nameee', 1870, 'Madique', 1829, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,Nc3,Qd6,d3,Be7,Nb5,Qd8,Be3,a6,Nc3,Bg4,h3,Bh5,g4,Bg6,h4,h6,h5,Bh7,Qe2,Bb4,a3,Bxc3+,bxc3,Qd6,O-O,O-O,Rfd1,Qe6,Nh2,f5,f3,f4,Bc5,Rf7,a4,b6,Ba3,g6,hxg6,Qxg6,Qe4,Qf6,Qc4,Na5,Qa2,h5,Re1,Kh8,Qd5,Nc6,Bb2,Rd8,Qa2,hxg4,Nxg4,Qh4', 'Qxf7,Qg3+,Kf1,Qxf3+,Nf2', 'https://lichess.org/training/qVS6y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QVtgD', 'Rapid', 'BuyukTurkistan', 2129, 'okeefephil', 2056, 'e4,e6,d4,d5,Nc3,Bb4,Bd2,dxe4,Qg4,Nf6,Qxg7,Rg8,Qh6,Qxd4,O-O-O,Qxf2,Be3,Qf5,Nge2,Bd7,Bd4,Rg6,Qh4,Nc6,Ng3,Qg4', 'Bxf6,Qxh4,Bxh4', 'https://lichess.org/training/QVtgD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QvTUH', 'Rapid', 'mudassir1234', 1712, 'Edixon-Valera', 1723, 'e4,c5,Nf3,d6,Nc3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,e5,Qd2,h6,Bxf6,gxf6,O-O-O,Rg8,Nd5,f5,Kb1,fxe4,f3,exf3,gxf3,Be6,Bc4,Rc8,Bb3,Bg7,Rhg1,a5,Ba4+,Bd7,Qxh6,Bxa4,Rxg7,Bxc2+,Ka1,Rxg7,Re1,Qg5,Qxd6,Be4', 'Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/QvTUH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qvu7A', 'Rapid', 'keic', 1875, 'MauraJ', 1945, 'e4,e5,f4,exf4,Bc4,d6,d4,Be6,Bxe6,fxe6,Bxf4,c5,dxc5,dxc5,Qf3,Qd7,Nc3,Nc6,Rd1,Nd4,Qf2,O-O-O,Nf3,Bd6,Bxd6,Qxd6,O-O,Nf6,Rfe1,Ng4,Qh4,Qf4,Nxd4,cxd4,Ne2', 'Qe3+,Kh1,Nf2+,Qxf2,Qxf2', 'https://lichess.org/training/qvu7A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qvu9t', 'Rapid', 'l12515140f62119', 2155, 'RoadsideBush', 1805, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,Bg4,Nbd2,e6,h3,Bh5,Bd3,Bd6,Bg5,h6,Bf4,Bxf4,exf4,Qd6,f5,Nxd4,O-O,Qf4,fxe6,Nxf3+,Nxf3,Bxf3,exf7+,Kxf7,gxf3,Rae8,Be2,Re5,Qd3,Rh5,Kg2,Qh4,f4,Re8,Bxh5+,Qxh5,Rae1,Ne4,Qe2,Qg6+,Qg4,h5,Qxg6+,Kxg6,f3,Nf6,Rxe8,Nxe8,Re1,Kf7,Kg3,d4,Kh4,g6,f5,gxf5,Kxh5,c5,Kg5,Ng7,Re5,b6,h4,c4,h5,Nxh5,Rxf5+,Ke6,Kg6,Ng3,Rf7,d3,cxd3,cxd3,Rf6+,Ke5,Rf8,Kd4,f4,d2,f5,Ke3,Rd8,Nxf5,Kxf5,Ke2,Ke4,d1=Q,Rxd1,Kxd1,Kd3,Kc1,Kc3,Kb1,Kb3,a6,a4,Ka1,Ka3,Kb1,b3,Kc2,Kb4,a5+,Kc4,Kb2,b4,Ka3', 'bxa5,bxa5,Kb5', 'https://lichess.org/training/Qvu9t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QVvsv', 'Rapid', 'mathisc08', 1736, 'yashnm', 1711, 'e4,c6,d4,d5,e5,Bf5,c3,e6,Bd3,Bg6,Bxg6,hxg6,Nf3,Nd7,Bg5,Be7,Nbd2,Bxg5,Qb3,Rb8,Qa4,a6,a3,b5,Qxa6,Be7,Qxc6,Qc8,Qxc8+,Rxc8,Nb3,f6,exf6,gxf6,Nbd2,Nh6,b4,Nf5,Nb3,Rxc3,Nc5,Nxc5,dxc5,Nh4,Nxh4,Rxh4,O-O,Re4,h3,Re2,Rfc1,Rb3,c6,Kd8,a4,bxa4', 'c7+,Kc8,Rxa4,Re1+,Rxe1', 'https://lichess.org/training/QVvsv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QvXXG', 'Blitz', 'MRDR52', 1596, 'mscuthbert', 1537, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,e5,Nd7,O-O,e6,Re1,Be7,d4,cxd4,Nxd4,Nb6,c3,Bc5,Be3,Bxd4,Bxd4,Nc4,Qb3,b5,a3,a5,Rd1,O-O,Qc2,Qc7,b3,Nb6,Bxb6,Qxb6,Nd2,Rd8,Nf3,Bb7,Rxd8+,Rxd8,Rd1,c5,Rxd8+,Qxd8,Qe2,Bxf3,Qxf3,h6,h3,Qd2,Qe3,Qd1+,Kh2,Qxb3,Qxc5,Qd5,Qc8+,Kh7,f4,Kg6,Qc7,a4,h4,Qe4,g3,Qc2+,Kh3,Qf5+,Kg2,Qe4+,Kh3,f6,exf6,gxf6', 'h5+,Kxh5,Qf7+,Qg6,g4#', 'https://lichess.org/training/QvXXG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qvyrv', 'Blitz', 'GM mamey78', 2430, 'EmperorBundaloy', 2355, 'e4,c5,Nf3,a6,c3,d5,d4,dxe4,Ng5,Nf6,Bc4,e6,O-O,b5,Bb3,Nc6,Be3,h6,Nh3,Be7,f3,exf3,Qxf3,Bb7,Qg3,g5,dxc5,Qb8,Qxb8+,Rxb8,Nd2,Ne5,Bd4,Ned7,a4,Bxc5,Bxc5,Nxc5,Rxf6,bxa4,Bc2,Ke7,Raf1,Rhf8,Nc4,Bd5,Ne5,Rxb2,Ng6+,fxg6,Rxf8,Rxc2,R8f2,Rxc3,Rd2,a3,Re1,Kd6,Nf2,Kc6,Nd1,Rb3,Ne3,Be4,Nc4,Bd3', 'Na5+,Kd5,Nxb3', 'https://lichess.org/training/Qvyrv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qVYuY', 'Rapid', 'Farouk1975', 1783, 'd3d1', 1749, 'd4,Nf6,c4,c5,d5,b5,e3,g6,Nf3,Bg7,a3,O-O,Nc3,Qa5,cxb5,d6,Qd2,a6,Be2,axb5,Nxb5,Qxd2+,Nxd2,Nxd5,O-O,Ba6,Rb1,Nd7,a4,Bxb5,Bxb5,N7b6,Bc6,Ra5,b3,Nb4,Bb5,N6d5,Bb2,Nc3,Bxc3,Bxc3,Nc4,Ra7,Rfd1,Bg7,f4,Na2,Re1,Nc3,Rbc1,Ne4,Rc2,d5,Nb6,Rc7,Nxd5,Rb7,Rb1,e6,Bc6,Ra7,Ne7+,Rxe7,Bxe4,Rc7,Rc4,f5,Bf3,Rd8,Rbc1,Rd3,Rxc5,Rxc5,Rxc5,Rxb3,Bc6,Rxe3,a5', 'Bd4,Kf1,Bxc5', 'https://lichess.org/training/qVYuY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QVZMl', 'Blitz', 'FM LZ97', 2510, 'IM KamranShirazi', 2525, 'e4,e5,Nf3,d5,exd5,e4,Nd4,Qxd5,Nb3,Bd6,Nc3,Qe5,Qe2,Bf5,g4,Bg6,h4,h5,g5,Nc6,Bg2,O-O-O,Nxe4,Bxe4,Qxe4,Qxe4+,Bxe4,Re8,d3,f5,gxf6,Nxf6,f3,Ne5,O-O,Nxe4,fxe4,Ng6,Bg5,Bg3,Rf7,Bxh4,Rxg7,Bxg5,Rxg6,Be3+,Kh1,Ref8,Rg2,h4,Re2,Bb6,d4,c6,c3,Rf3,Rg1,Re8,Rg4,h3,Kh2,a5,Nd2,Bc7+,e5,Rd3,Rg3,Rxg3,Kxg3,Rh8,Kh2,c5,Re3,cxd4,cxd4,Rd8,Rd3,Bxe5+,Kxh3,Bxd4,b3,Rh8+,Kg4,Bb6,Rc3+,Bc7,Nf3,Rf8,Ng5,Rf4+,Kh5,Rf6,Ne4,Re6,Nc5,Re5+,Kg6,b5,Kf6,Kd8', 'Ne6+,Rxe6+,Kxe6', 'https://lichess.org/training/QVZMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QW2Xa', 'Classical', 'HeBerbom', 1613, 'tassos', 1717, 'd4,e6,c4,d5,Nf3,c5,Bg5,Be7,Bf4,Nc6,e3,Nf6,Nc3,Nh5,Bg3,Nxg3,fxg3,O-O,Bd3,cxd4,Nxd4,Nxd4,exd4,Bf6,cxd5,exd5,Bc2,Re8+,Ne2,Qa5+,Kf2,Bg4,Re1,Qb6,Qd3,Bxe2', 'Qxh7+,Kf8,Qh8+,Ke7,Rxe2+', 'https://lichess.org/training/QW2Xa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qw2zf', 'Rapid', 'clsi', 1832, 'PedalHorse', 1805, 'e4,d5,e5,c5,c3,Nc6,d4,cxd4,cxd4,Bf5,Nc3,e6,a3,a6,Nf3,b5,b4,Qb6,Be3,a5,Bxb5,axb4,Bxc6+,Qxc6,Na2,Rxa3,Nd2,Qb5,Nb3,Nh6,Bg5,Be7,Bxe7,Kxe7,Qc1,Rxb3,Qc7+,Qd7,Qc5+,Ke8,Nxb4,f6,Ra8+,Kf7,Rxh8,Rb1+,Kd2,Rxh1,Rf8+,Kg6,exf6,gxf6,Nd3,Bxd3,Kxd3,Rd1+,Ke2,Ra1,Qc2+,f5,Qd3,Ra2+,Kf3,Qe7,Rb8,Nf7,g4,Ng5+,Kf4,Nf7,Rg8+,Kh6', 'Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/qw2zf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qw7BH', 'Rapid', 'bbeltkyle89', 1992, 'chesspg', 2109, 'd4,Nf6,Bg5,c6,Bxf6,gxf6,c4,d5,cxd5,cxd5,Nc3,Nc6,e3,Bf5,g3,e6,Bg2,Qa5,Ne2,Nb4,O-O,Bg7,a3,Nc6,b4,Qd8,b5,Na5,Na4,O-O,Nc5,b6,Na6,Rc8,Rc1,Nc4,Qa4,Bd3,Rfe1,Bh6,Rc3,Nb2,Qb3,Bxe2,Rxe2,Rxc3,Qxc3,Nc4,Nb4,Qd6,a4,Rc8,Nc6,a6,Bf1,axb5,axb5,Ra8,Qb4,Qxb4,Nxb4,Ra1,Kg2,Bf8,Nc6,e5,Rc2,Na3,Rc3,exd4,Nxd4,Bc5,Be2,Ra2,Bf3,Bxd4,exd4,Nxb5,Rc8+,Kg7,Bxd5,Rb2,Bc4,Nxd4,Rc7,b5,Bxf7,Kh6,Bd5,b4,Rc4,Nc2,Be4', 'Ne3+,Kf3,Nxc4', 'https://lichess.org/training/Qw7BH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qw7MM', 'Classical', 'thesilentjoker', 2125, 'murat60', 2193, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,c6,Bd3,h6,Bf4,Nbd7,Nf3,O-O,O-O,Nh5,Bg3,Nxg3,hxg3,Bf6,e4,dxe4,Nxe4,Nb6,Nxf6+,Qxf6,Ne5,Be6,Qc2,Rfd8,Rad1,Nd5,a3,Rac8,b4,a5,bxa5,c5,Rfe1,cxd4,Qb2,Nc3,Rd2,Rc7,Qb6,Qe7,Nf3,Rc6,Qb2,Qc5,Re5,Qa7,Qb4,Rcd6,Nxd4,Qxd4', 'Bh7+,Kxh7,Rxd4', 'https://lichess.org/training/qw7MM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qw7Wm', 'Rapid', 'samds', 1809, 'One_Nation12', 1838, 'd4,Nf6,c4,g6,Nc3,Bg7,e3,O-O,Nf3,d6,g3,Nbd7,Bg2,Rb8,O-O,b6,b3,Bb7,Bb2,Re8,Qc2,e5,dxe5,dxe5,Rad1,e4,Nd4,Qc8,Rd2,Nc5,Rfd1,Nd3,Bxe4,Nxe4,Rxd3,Qh3,f3,Nxc3,Bxc3,Bxd4,Rxd4,Bxf3,Rh4,Qe6,Re1,Be4,Qf2,Rbd8,Qf4,f5,Qh6,Qf7,Bd4,c5,Bc3,Rd3,Ba1,Rd2,Rf1,Rg2+,Kh1,Rxg3+', 'Rxe4,Rxe4,hxg3', 'https://lichess.org/training/qw7Wm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWboP', 'Classical', 'kenzo57', 1903, 'joganov', 2018, 'e4,e6,d4,d5,Nd2,c5,Ngf3,dxe4,Nxe4,cxd4,Nxd4,a6,Be2,Nf6,Bg5,Be7,O-O,O-O,Nf3', 'Nxe4,Qxd8,Bxd8', 'https://lichess.org/training/qWboP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QWBuR', 'Rapid', 'spirogrigori', 1693, 'Arystanbek', 1680, 'e4,e5,Nf3,Qf6,d4,exd4,Nxd4,Bc5,Nf3,h6,Bc4,d6,h3,c6,a4,a5,O-O,g5,Qe2,g4,hxg4,Bxg4,Nbd2,Nd7,Re1,Ne5,b3,Rh7,Bb2,Nxf3+,Qxf3,Qxb2,Qxg4,Qxc2,Qxg8+,Kd7,Qxh7,Qxd2,Qxf7+,Kc8,Qf8+,Kc7,Qxa8', 'Qxf2+,Kh2,Qh4#', 'https://lichess.org/training/QWBuR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QWEMy', 'Blitz', 'lamiaras', 2057, 'Tippler1349', 2075, 'd4,e6,Bf4,g5,Bg3,f5,h3,h5,e4,f4,Bh2,Bg7,c3,Nf6,f3,b6,e5,Nd5,Bd3,Ne3,Qe2,O-O,Na3,a5,Nc2,Nf5,h4,gxh4,Bxf4,Nxd4,Nxd4,Rxf4,Nh3,Rxd4,cxd4,Ba6,Qe4,Bxd3,Qxa8,d6,Kf2,dxe5,Rhd1', 'Qxd4+,Ke1,Qe3#', 'https://lichess.org/training/QWEMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWeox', 'Rapid', 'play-best', 1614, 'x_AG_x', 1621, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,Bxf7+,Kxf7,Ng5+,Ke8,f4,Nge7,f5,h6', 'Qh5+,g6,fxg6', 'https://lichess.org/training/qWeox');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWEU5', 'Bullet', 'My_Wreck', 1723, 'sssyddd', 1670, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,d5,Bb3,Bg4,d3,Nf6,Re1,Nbd7,Bg5,Bxf3,Qxf3,c6,Nd2,Bd6,c4,dxc4,Nxc4,Qc7,Nxe5,Bxe5,d4,O-O,dxe5,Nxe5,Qg3,Nfd7,Bf4,Rfe8,Re3,Kf8,Bxf7,Kxf7,Rae1,Qa5,Bxe5,Nxe5,Rxe5', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/qWEU5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qwfEe', 'Classical', 'yau88sg', 1865, 'zolotoeruno', 1935, 'e4,c5,d3,e6,h3,Nc6,c3,Nf6,Nf3,Qc7,g3,d6,Bg2,Be7,O-O,O-O,Na3,a6,Nc2,Rb8,Bf4,e5,Bd2,h6,Ne3,Be6,Nh4,Qd7,Kh2,Nh7,Nhf5,Ng5,Ng4,Bxf5,exf5,Qxf5,h4,Nh7,Bxh6,Qg6,Be3,f5,Bh3,fxg4,Bxg4,Nf6,Be6+,Kh8,g4,Nh5,Bf5,Qf7,g5,Qxf5,Qxh5+,Qh7,Qg4,e4,d4,cxd4,cxd4,d5,Kg2,g6,Rh1,Qf7,Rh3,Qf5,Qe2,Nb4,h5,Kg7,hxg6,Qxg6,Rh6,Qf5,Rah1,Qf3+,Qxf3,exf3+,Kf1,Rh8,Bf4,Rxh6', 'gxh6+,Kh7,Bxb8', 'https://lichess.org/training/qwfEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWGIb', 'Rapid', 'AChessB', 1999, 'Haker2007', 2118, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,h6,Bh4,c5,Rc1,cxd4,exd4,Nc6,cxd5,exd5,Bd3,Re8,O-O,Bg4,Bb1,Ne4,Bxe7,Qxe7,Nxd5,Qd8,Ne3,Nxd4,Qd3,Bxf3,gxf3,Nxf3+,Kg2,Qxd3,Bxd3,Nfg5,Rc7,Nd6,Rfc1,Rac8,Nf5,Rxc7,Rxc7,Nxf5,Bxf5,g6,Bd7,Rb8,Bc8,b5,Ba6,Rb6,Rxa7,Kg7,Bc8,Rc6,Bd7,Rc2,Bxb5,Rxb2,Bc6,Rc2,Bd5,Rd2,Bb3,Rb2,h4,Ne4,Rxf7+,Kh8,Rf8+,Kg7,Rg8+,Kf6,Rf8+,Ke5,Re8+,Kf4,Rf8+,Kg4,Bd5,Nc3,Be6+,Kh5,Kg3,Ne4+,Kf4', 'Rxf2+,Kxe4,Rxf8', 'https://lichess.org/training/qWGIb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QWIFd', 'Rapid', 'gaston1981', 1726, 'phrank1', 1760, 'e4,d6,d4,Nf6,Bd3,g6,Nc3,Bg7,Be3,O-O,Qd2,a5,Nf3,Re8,h4,h5,Ng5,e5,d5,Nbd7,a3,Nc5,Be2,Ng4,Bxg4,Bxg4,f3,Bd7,O-O-O,b5,g4,a4,gxh5,b4,axb4,Nb7,hxg6,fxg6,h5,a3,bxa3,Rxa3,hxg6,Ra1+,Nb1,Qa8,c4', 'Qa3+,Qb2,Qxe3+', 'https://lichess.org/training/QWIFd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QWiWi', 'Classical', 'glasses108', 1991, 'infiquanta', 1884, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,Nc3,Qb6,Bc4,e6,d3,Nge7,Be3,d6,Nb5,O-O,Nxd6,Ne5,Nxc8,Raxc8,Rb1,Nxc4,dxc4,Qa6,Qd7,Nc6,Qd6,Qxc4,Qxc5,Qxe4,Qa3,a6,c3,Rfd8,Rbd1,Rxd1,Rxd1,Rd8,Qb3,Rxd1+,Qxd1,h5,Nd2,Qd5,Qa4,Ne5,Qb3,Qd3,Qxb7,Ng4,Qe4,Qe2,Qc4,Qd1+,Qf1', 'Nxe3,Qxd1,Nxd1', 'https://lichess.org/training/QWiWi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWkIq', 'Classical', 'Philips0G', 1636, 'akshatbansal', 1726, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bc4,Nf6,Nc3,e5,Nde2,Bg4,f3,Bh5,Bg5,Be7,Bxf6,Bxf6,Nd5,O-O,b4,Nd4,Nxd4,exd4,O-O,Rc8,Qd3,a6,Nxf6+,Qxf6,Rfd1,b5,Bb3,Rfd8,Qxd4,Qxd4+,Rxd4,Bg6,a4,bxa4,Rxa4,Rc6,b5,axb5,Ra5,Rb6,Rd5,b4,Rab5,Rxb5,Rxb5,Kf8,Rxb4,f5,Bd5,fxe4,Bxe4,Bxe4,Rxe4,d5,Rh4,h6,Kf2,Ke7,Ke3,Ke6,Kd4,Rc8,c3', 'Rc4+,Ke3,Rxh4', 'https://lichess.org/training/qWkIq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QwMtQ', 'Blitz', 'Alexeus1985', 2321, 'JorgePereGX', 2158, 'd4,e5,dxe5,Nc6,Nf3,d6,exd6,Bxd6,c4,Qe7,Nc3,Nf6,Bg5,Be6,e3,O-O-O,Qa4,a6,c5,Bxc5,Bxa6,Kb8,Be2,h6,Bxf6,Qxf6,O-O,Bb6,Rac1,g5,Rfd1,g4,Nd2,h5,b4,h4,Nce4,Qh6,Nc5,Rd5,Nxb7,g3,Qxc6,gxf2+,Kh1,h3,g3,Qxe3,Bf3,Rxd2,Nc5,Rxd1+,Rxd1', 'Qe1+,Rxe1,fxe1=Q#', 'https://lichess.org/training/QwMtQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QWnku', 'Rapid', 'paulatreides', 1696, 'sarthakmanna', 1776, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Ne7,d4,Qd6,Qg4+,Kf7,Qf3+,Ke6,O-O,c6,dxe5,Qd8,Re1,a5,Qg4+,Nf5,Bxd5+,cxd5,Bf4,Bb4,Red1,d4,Ne4,h6,c3,Bc5,Nxc5+,Kf7,Qh5+,g6,Qe2,Qb6,cxd4,Nxd4,Qc4+,Ne6,Nxe6,Bxe6,Rd6', 'Qxd6,exd6,Bxc4', 'https://lichess.org/training/QWnku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWNui', 'Blitz', 'x0404', 1794, 'yonisgomez', 1860, 'e4,c5,Nf3,d6,h3,Nc6,Bb5,Nf6,d3,g6,c3,Bg7,O-O,O-O,Nh2,Ne5,d4,cxd4,cxd4,Ned7,Bd3,d5,e5,Ne4,Qe2,e6,Bxe4,dxe4,Qxe4,Nb6,Nc3,Bd7,Be3,Bc6,Qg4,Nd5,Bg5,Qb6,Rab1,Qa5,Nxd5,Bxd5,a3,Rfc8,Qg3,Rc2,Ng4,Rac8,Nf6+,Bxf6,Bxf6,h6,Qe3,Kh7,h4,Ba2,Rbc1,Qc7,Rxc2,Qxc2,g4,Rg8,Rc1,Qxb2,Rc7,Rf8,h5,Bd5,hxg6+,Kxg6', 'Qd3+,Be4,Qxe4#', 'https://lichess.org/training/qWNui');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QwoM0', 'Rapid', 'ilmiy', 1690, 'Whizzz', 1713, 'e4,e6,f4,d5,e5,c5,c4,Nc6,Nf3,Nh6,Nc3,Nf5,cxd5,exd5,Bb5,Be6,Bxc6+,bxc6,d4,c4,Bd2,Qb6,Bc1,c5,dxc5,Bxc5,Na4,Bb4+,Bd2,Bxd2+,Qxd2,Qe3+,Qxe3,Nxe3,Kf2,Ng4+,Ke2,O-O,h3,Nh6,g4,Rab8,Rab1,Rb4,Nc5,a5,f5,Bc8,Nd4,Re8,e6,fxe6,fxe6,Nf7,Kd2,Ng5,a3,Rb8,h4,Nxe6,Ncxe6,Bxe6,g5,Bg4,Rhg1,Bh5,Rge1,Bg6,Rxe8+,Bxe8,Kc3,Bg6,Re1,Be4,Nc6,Rb3+,Kd4,Rd3+,Kc5,a4,Kb4,Rb3+,Kxa4,Rxb2,Rd1,c3,Ne7+,Kf7,Nxd5,c2,Rf1+,Kg6', 'Nf4+,Kf5,Nd3+', 'https://lichess.org/training/QwoM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qwOZp', 'Blitz', 'FM KillerAnaconda', 2360, 'HWemzy', 2308, 'd4,e6,Bf4,d5,e3,f5,g4,fxg4,Qxg4,Nf6,Qh4,Be7,Nd2,Nc6,Ngf3,Bd7,Rg1,g6,Bd3,Ne4,Qh3', 'e5,Qg2,exf4', 'https://lichess.org/training/qwOZp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QWPsq', 'Blitz', 'DerSaxe', 1725, 'chesswolk', 1721, 'c4,d6,Nc3,e5,g3,f5,Bg2,Nf6,e3,Nc6,Nge2,Bd7,O-O,Be7,d4,O-O,d5,Nb8,b3,a6,Bb2,c5,Qc2,b5,Bh3,e4,Nf4,b4,Nce2,g6,Bg2,a5,f3,exf3,Bxf3,Na6,Nd3,Qc7,Nf2,a4,e4,a3,Bc1,fxe4,Nxe4,Nxe4,Qxe4,Bf5,Qf4,Bf6,Rb1,Bxb1,Bg4,Be5,Be6+,Kg7', 'Qh6+,Kh8,Rxf8+,Rxf8,Qxf8#', 'https://lichess.org/training/QWPsq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qwqb4', 'Rapid', 'WildeTorres', 1700, 'DrunkensteinChess', 1705, 'e4,e5,Nf3,Nc6,d4,Bd6,Nc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Qe7,Bb5,Nh5,Bxc6,Nxg3,hxg3,dxc6,Qd2,Bg4,O-O-O,Bxf3,gxf3,exd4,Qxd4,O-O-O,f4', 'Bxf4+,gxf4,Rxd4', 'https://lichess.org/training/Qwqb4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QwQcV', 'Blitz', 'florianjohan', 2223, 'NM crptone', 2497, 'd4,a5,Nf3,c6,Bf4,d6,e3,Nd7,h3,a4,a3,e5,dxe5,dxe5,Nxe5', 'Qa5+,Nc3,Nxe5', 'https://lichess.org/training/QwQcV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWr7W', 'Rapid', 'Mostafa_009821', 1753, 'adomas26', 1846, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,h6,Be3,Bxe3,fxe3,O-O,O-O,d6,Nd5,Bg4,Qe2,a6,Qf2,Nxd5,Bxd5,Nb4,Bb3,Be6,Nh4,Bxb3,axb3,Nxc2,Rac1,Nb4,Nf5,Qg5,h4,Qd8,Qg3,g6,Nxh6+,Kh7,Nxf7,Qe7,Ng5+,Kg7,Rc4,Rxf1+,Kxf1,Rf8+,Kg1,Nxd3', 'Rxc7,Qxc7,Ne6+', 'https://lichess.org/training/qWr7W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWrBx', 'Rapid', 'trotsogf', 1676, 'yardimci5452', 1836, 'e4,e5,Bb5,Nf6,Nc3,Bc5,h3,c6,Ba4,d5,exd5,b5,Bb3,cxd5,d3,Bb4,Bd2,O-O,Nxb5,Bxd2+,Qxd2,e4,O-O-O,Bb7,f3,a6,Nc3,exf3,gxf3,Re8,Nge2,d4,Ne4,Nxe4,fxe4,Kh8,Qb4,Nc6,Qxb7,Na5,Qxf7,Nxb3+,Qxb3,Rb8,Qc4,Qa5,a3,Qb6,b3,Rec8,Qa4,Qc7,Nxd4,Rb5,c4,Ra5,Qb4,Qe5,Nc6,Qa1+,Kd2,Qb2+,Ke1,Rg5,Rf1,h6,Ne7,Rg2,Rd2', 'Qc1+,Rd1,Qe3#', 'https://lichess.org/training/qWrBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QWRd9', 'Classical', 'DanieW', 1695, 'redpointer', 1900, 'd4,Nf6,Bf4,d5,a4,Bf5,Nf3,e6,e3,Be7,Nc3,O-O,Bd3,Ne4,O-O,Nd7,Ne5,Nxc3,bxc3,Bxd3,Qxd3,Nxe5,dxe5,c5,e4,dxe4,Qxe4,Qc7,c4,Rad8,h3,Rd4,Qe3,Rfd8,Qg3,Rxc4,Bh6,Bf8,c3,Qe7', 'Bg5,Qc7,Bxd8', 'https://lichess.org/training/QWRd9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWrQ2', 'Rapid', 'akpaca', 1833, 'Balpollegends', 2060, 'e4,e5,Nc3,Nf6,f4,d6,Nf3,Nbd7,a3,b6,Bc4,Be7,fxe5,Nxe5,Nxe5,dxe5,d3,Bb7,O-O,O-O,Bg5,h6,Be3,Qd7,Qd2,Ng4,h3', 'Nxe3,Qxe3,Bc5,Qxc5,bxc5', 'https://lichess.org/training/qWrQ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QWSeb', 'Rapid', 'Qazzopro', 1948, 'manish007', 1899, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Bb5,Bb4+,c3,Bc5,O-O,Qc7,Re1,Bd6,g3,Nf6,Bf1,b6,Nxc6,dxc6,Bg5,Bb7,Bxf6,gxf6,Qf3,Be5,Nd2,b5,Nb3,h5,Nc5,h4,Nxb7,Qxb7,Rad1,hxg3,hxg3,Qb6,Qe3,Qb7,Bg2,Ke7,Rd2,Qb6,Red1,Qxe3,Rd7+,Kf8,fxe3,Bxg3,Rb7,Kg7,Rdd7,Rhf8,Bh3,Kg6,Bxe6,Kg5,Bxf7,Rh8,Rxa7,Rab8,Rab7,Rbf8,Bb3,f5,Rg7+,Kh4,Rh7+,Rxh7,Rxh7+,Kg5,exf5,Rxf5,Rg7+,Kh4,Rh7+,Kg5,e4,Rf8,Rg7+,Kh4,e5,Bxe5,Rh7+,Kg5,Bc2,Rf4,Kg2,Rg4+,Kf1,Kf6,Rh6+,Ke7,Rxc6,Rf4+,Ke2,Rh4,Rc5,Rh2+,Kd3,Bd6,Rxb5,Rh3+,Kc4,Rh4+,Kb3,Rh2,a4,Kd7,a5,Kc6,Rf5,Rh8,Be4+,Kc7,a6,Kb6,Bb7,Bb8,Rf6+,Kc7,Kb4,Ba7,Kb5,Rh5+,Kc4,Rc5+,Kd4', 'Rf5+,Ke4,Rxf6', 'https://lichess.org/training/QWSeb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWSyJ', 'Rapid', 'Giobbattadv', 1629, 'Titzel', 1706, 'c4,Nf6,Nc3,g6,Nf3,Bg7,d4,O-O,e4,d6,h3,b6,Bg5,Bb7,Bxf6,Bxf6,e5,dxe5,dxe5,Qxd1+,Rxd1,Bxf3,gxf3,Bxe5,Bg2,Bxc3+,bxc3,Nc6,f4,Rad8,Bxc6,Rxd1+,Kxd1,Rd8+,Kc2,Rd6,Bf3,Rf6,Re1,Rxf4,Bd5,Rxf2+,Kb1,e6,Bc6,Rf4,Bb5,Rf3,Kb2,Rxh3,Kb3,h5,Rd1,f5,Rd8+,Kf7,Rd7+,Kf6,Rxc7,a6,Bxa6,Rd3,Rc6,Rd8,Rxb6,h4,Bb7,h3,a4,h2,a5,Rb8,c5', 'Rxb7,Rxb7,h1=Q', 'https://lichess.org/training/qWSyJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QwSYS', 'Blitz', 'NM BigH', 2441, 'Neftegor', 2485, 'd4,Nf6,Bf4,c5,e3,Qb6,Nc3,a6,a3,cxd4,exd4,d5,Nf3,Bg4,Be2,Bxf3,Bxf3,e6,O-O,Qxb2,Na4,Qb5,c4,Qa5,Rb1,b5,cxd5,exd5,Re1+,Kd8,Nc5,Qb6,Bg5,Be7,Rxe7,Kxe7,Bxd5,Ra7,Qe2+,Kd8,Re1,Qd6,Nb7+,Rxb7,Bxb7,Nd7,d5,Kc7,Bc6,Re8,Qd2,Rxe1+,Qxe1,Ne5,Qa5+,Kb8,Qb6+,Kc8,Bb7+,Kd7,Bc6+,Ke7,Qb7+,Kd8,Qa8+,Kc7,Be3', 'Nxc6,Qxc6+,Qxc6', 'https://lichess.org/training/QwSYS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QWti7', 'Blitz', 'darkmo', 1633, 'AkioTK', 1614, 'd4,d5,c4,e6,Bf4,Nf6,Nf3,c5,e3,Nc6,Nc3,Bd6,Bg3,O-O,cxd5,exd5,Bd3,Bg4,O-O,Re8,h3,Bh5,dxc5,Bxc5,Be2,Bg6,Qb3,Na5,Qa4,b6,Rfd1,Nb7,Ne5,Ne4,Nxg6,fxg6,Nxe4,Rxe4,Qxe4,dxe4,Rxd8+,Rxd8,Bc4+,Kf8,b3,Nd6,Bxd6+,Rxd6,Kh2,h5,g4,Ke7,Kg3,Rf6,gxh5,gxh5,Rf1,Rf3+,Kh4,g6,a4,Kf6,Bd5,Kf5,Rg1', 'Be7+,Rg5+,Bxg5#', 'https://lichess.org/training/QWti7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qwU60', 'Rapid', 'Adermun', 1660, 'shohrux', 1632, 'Nc3,e6,e4,d5,e5,c5,d4,Nc6,Nf3,Nge7,Bf4,Ng6,Bg3,Qb6,Bb5,Bd7,Bxc6,Bxc6,O-O,Qxb2,Qe1,Qb6,a4,a5,Rb1,Qc7,Nb5,Bxb5,axb5,b6,c4,cxd4,cxd5,Bb4,Qe4,exd5,Qxd5,O-O,Qxd4,Rad8,Qe4,Qa7,Ra1,Bc3,Ra3,Bb4', 'Qxb4,axb4,Rxa7', 'https://lichess.org/training/qwU60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qwu9e', 'Rapid', 'Viktor1649', 1800, 'maykel_rodrigs', 1811, 'c4,c6,e4,d5,e5,Bf5,d4,e6,Nf3,Ne7,Qb3,Qc7,c5,Nd7,a4,b6,cxb6,Nxb6,a5,Nd7,Qa4,Ng6,Be2,f6,exf6,Nxf6,O-O,Rb8,Qd1,Bd6,h3,O-O,Bd3,Bxd3,Qxd3,e5,dxe5,Nxe5,Nxe5,Bxe5,f4,Bxf4,Bxf4,Qe7,Bxb8,Rxb8,b3,Qc5+,Kh1,Ne4,Kh2,h6,Nd2,Qd6+,g3,Nxd2,Qxd2,Rxb3,Qf4,Rb2+,Kh1,Qg6,Rae1,Kh7,g4,Rb3,Kh2,Rb2+,Kg3,Rb3+,Rf3,Rxf3+,Kxf3,Qd3+,Re3,Qf1+,Kg3,Qg1+,Kh4', 'g5+,Kh5,gxf4', 'https://lichess.org/training/Qwu9e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qww80', 'Blitz', 'FM papadosor', 2441, 'mbakkor', 2365, 'd4,e5,dxe5,d6,exd6,Bxd6,Nf3,Bg4,h3,Bh5,g3,Qe7,Bg2,Nc6,O-O,O-O-O,Nbd2,Nf6,c3,g5,Qa4,g4,Nh4,Qxe2,Nc4,Bc5,Bg5,Ne4,Bxe4,Rde8,Bxc6,bxc6,Qa6+,Kb8,Rae1', 'Bxf2+,Rxf2,Qxe1+', 'https://lichess.org/training/Qww80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWwmC', 'Rapid', 'RamChebolu', 1765, 'sami61', 1644, 'f4,d6,Nf3,Nf6,d4,e6,e3,Nc6,Be2,Bd7,O-O,Ne4,c3,Be7,Qc2,h6,Qxe4,d5,Qc2,Na5,Ne5,f6,Ng6,Rg8,Bh5,Bb5,Rf2,c5,a4,Bc4,Nd2,Qb6,Nxc4,Nxc4,b3,Nd6,Ba3,Ne4,Rff1,cxd4,exd4,Bxa3,Rxa3,Rc8,b4,Rc6,Ne5+,g6,Bxg6+,Rxg6,Nxg6,Kf7,Nh4,Nxc3,Rxc3,Qxd4+,Rf2,Rxc3,Qg6+,Ke7,Qg7+,Kd6,Nf3', 'Rc1+,Ne1,Rxe1#', 'https://lichess.org/training/qWwmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qWx3T', 'Classical', 'olexiy108', 1610, 'Peku201', 1622, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,d6,O-O,e5,d4,Bg4,Bg5,exd4,Nxd4,c6,Qc2,Qd7,e3,Bh3,Rfd1,Bxg2,Kxg2,Qg4,Nf3,Nbd7,Bxf6,Bxf6,Rxd6,Rad8,Rad1,h5,R1d4,Bxd4,Rxd4,Qe6,Ng5,Qe5,Nf3,Qb8,Ne4,Ne5,Nf6+,Kg7,Ne4,Rxd4,Nxd4,Ng4,Qc3,Kh7,f3,Qe5,Qd3,Nf6,Nxf6+,Qxf6,e4,c5,Nc2,Qxb2,Kh3,Qxa2,f4,Qa5,f5,Rd8,Qf3,Qd2,Ne3,Rd3,fxg6+,fxg6,Qf7+,Kh6,Qf4+,Kg7,Qe5+,Kf7,Qc7+,Rd7,Qf4+,Ke8,Qe5+,Re7,Qb8+,Kf7,Qf4+,Kg7', 'Nf5+,gxf5,Qxd2', 'https://lichess.org/training/qWx3T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qx0hE', 'Rapid', 'to_ca', 2107, 'Katastrov82', 1846, 'd4,d5,Nf3,Nc6,e3,Nf6,c3,Bg4,Nbd2,e5,dxe5,Nxe5,h3,Nxf3+,Nxf3,Bh5,Be2,Be7,Ne5,Bxe2,Qxe2,O-O,O-O,Nd7,Qh5,Nxe5,Qxe5,Bf6,Qg3,Qe7,e4,dxe4,Bf4,c6,Rfe1,Rfe8,Re3,Be5,Rae1,Bxf4,Qxf4,Qe5', 'Rxe4,Qxe4,Rxe4,Rxe4,Qxe4', 'https://lichess.org/training/qx0hE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qx4dD', 'Rapid', 'Jing0525', 1940, 'Homoorcus', 1994, 'e4,c6,f4,d5,e5,Bf5,c4,dxc4,Bxc4,Qd4,d3,b5,Bxb5,cxb5,Qf3,Qxd3', 'Qxa8,Qe4+,Qxe4', 'https://lichess.org/training/Qx4dD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qx4r7', 'Rapid', 'Aymaneo', 1646, 'Bosak_Max', 1663, 'c4,e5,Nc3,Nf6,g3,Bc5,Bg2,Ng4,Ne4,Bd4,e3,Bb6,Qxg4,O-O,Nf3,f5,Qh4,Qxh4,Nxh4,fxe4,Bxe4,d6,Bg2,Nc6,O-O,Be6,b3,a5,Bb2,a4,d4,axb3,axb3,Rxa1,Bxa1,exd4,Bxc6,bxc6,exd4,d5,c5,Ba5,Bb2,g5,Ng2,Rf3,Ne3,Bd2,Kg2,g4,Bc1,Bc3,Rd1,h5,Rd3,Be1,Rd1,Bxf2,Rf1', 'Bxe3,Bxe3,Rxe3', 'https://lichess.org/training/Qx4r7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qx5gL', 'Rapid', 'MChabot', 1825, 'AlexDolgosheev', 1759, 'd4,Nf6,c4,e6,a3,d5,c5,b6,b4,a5,Bb2,axb4,axb4,Rxa1,Bxa1,bxc5,bxc5,Nc6,e3,Be7,Nf3,O-O,Bb5,Bd7,Qa4,Qa8,Bxc6,Qxc6,Qxc6,Bxc6,Ne5,Bb5,Nc3,Ba6,f3,Rb8,Kf2,Bc8', 'Nc6,Ra8,Nxe7+', 'https://lichess.org/training/qx5gL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QX5Ph', 'Blitz', 'IM EinarHjalti', 2530, 'CM Chess_Horse', 2428, 'e4,c6,d4,d5,f3,Nf6,Nc3,dxe4,fxe4,e5,Nf3,exd4,Qxd4,Qxd4,Nxd4,Bb4,Bd3,O-O,Bd2,Re8,O-O-O,Bg4,Rde1,Nbd7,h3,Bh5,g4,Bg6,Nf5,Ne5,a3,Bc5,g5,Nxd3+,cxd3,Nd7,h4,Ne5,Kc2,Rad8,Rh3,Bh5,Rg3,Bf2,d4,Nc4,Rd3,Nxd2,Kxd2,Bxe1+,Kxe1,Bg6,Ng3,f6,h5,Bxe4,Ncxe4,f5,Rd2,fxe4,Ke2,e3,Rd3,Kf7,Nf1,Re4,Rb3,b6,Rc3,Rd6,Nxe3,Rexd4,Nf5,Re6+,Kf3,Rd2,b4,Rd5,Kg4,Re4+,Kf3,Re6,Kg4,h6,Rf3,Kg8,g6,Re4+,Kg3,Ree5,Kg4,Rxf5,Rxf5,Rxf5', 'Kxf5,Kf8,Ke6,c5,bxc5,bxc5,Kd5,Ke7,Kxc5', 'https://lichess.org/training/QX5Ph');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QX6bJ', 'Rapid', 'ishait', 1725, 'PrWolkonsky', 1638, 'Nf3,c5,e4,e6,g3,d5,exd5,exd5,Bg2,Be7,O-O,Nc6,Nc3,d4,Ne4,f5,Nxc5,Bxc5,Re1+,Be7,c3,d3,Qb3,Nf6,Ng5,Rf8,Bxc6+,bxc6,Ne6,Bxe6,Rxe6,Rb8,Qc4,c5,Qxc5,Kf7,Qe5,Re8,Qxf5,Qd5', 'Rxf6+,Bxf6,Qxd5+', 'https://lichess.org/training/QX6bJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qx8iG', 'Rapid', 'thedime', 1657, 'maksym_letiushov', 1830, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Bb4,Bd3,Bxc3+,bxc3,O-O,O-O,h6,Bd2,Nbd7,h3,c5,Re1,Ne4,Bc1,b6,Qc2,Bb7,Nh2,Ndf6,f3,Ng3,Kf2,Qc7,e4,dxe4,fxe4,Ngxe4+,Bxe4,Bxe4,Rxe4,Qxh2', 'Bf4,Nxe4+,Qxe4,Qxf4+,Qxf4', 'https://lichess.org/training/Qx8iG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qXakD', 'Rapid', 'Spino97', 1830, 'ziyaretci64', 1815, 'd4,g6,c4,Bg7,Nf3,b6,Nc3,Bb7,e3,d6,Bd3,Nf6,h3,O-O,O-O,Nbd7,d5,a6,Bd2,Nc5,Be2,Re8,Qc1,e6,Ng5,exd5,Nxd5,Nxd5,cxd5,Qxg5,e4,Rxe4,Bxg5,Rxe2,Qd1,Rxb2,Bc1,Rb5,a4,Rb4,Ra3,Rd4,Qe2,Re4,Re3,Bxd5,Rxe4,Bxe4,Qg4,Bf5,Qf4,Nd3,Qc4,Nc5,g4,Be6,Qe2,Nxa4', 'Qe4,Rb8,Qxa4', 'https://lichess.org/training/qXakD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QxAYM', 'Rapid', 'bob1000', 1879, 'General-King-Killer', 1661, 'd4,d5,g3,Nf6,Bg2,Nc6,c4,Be6,c5,a6,Nc3,Na5,Bg5,c6,Bxf6,exf6,e3,Nc4,Qc2,Qa5,Ne2,Be7,O-O,O-O,b3,Na3,Qb2,Nb5,Na4,Bf5,Nec3,Bd3,Rfe1,Rfe8,Rad1,Bf5,h3,h6,g4,Bg6,f4,f5,Nxb5,axb5,Nb6,Rab8,Nd7,Rbd8,Ne5,Bh7,a4,Bh4,Re2,f6,Nf3,g5,Nxh4,gxh4,Bf1,fxg4,hxg4,Be4,Rh2,bxa4,bxa4,Qxa4', 'Ra1,Qxa1,Qxa1', 'https://lichess.org/training/QxAYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qXcd1', 'Rapid', 'CapaColorada', 1814, 'Royblue', 1730, 'e4,a5,f4,e5,Nf3,Ra6,Bxa6,Nxa6,fxe5,b6,d4,Nb4,a3,Nc6,Be3,Ba6,Nc3,Nce7,Ne2,Ng6,O-O,Be7,d5,Nh6,h3,Bh4,Bxh6,gxh6,d6,Bg5,b3,Nf4,c4,Rg8,Nxg5,Qxg5,Rf2', 'Nxh3+,Kf1,Nxf2', 'https://lichess.org/training/qXcd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qxcqo', 'Rapid', 'Persil001', 2035, 'greenmate', 2067, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,c3,b5,Bb3,Bb6,d3,h6,O-O,Qe7,Nbd2,Nf6,h3,O-O,Re1,d6,Nf1,Nb8,Ng3,Re8,Qe2,Qd8,Nh4,Nbd7,Nhf5,Nf8,Qf3,Ng6,Nh5,Nxh5,Qxh5,Qf6,d4,exd4,cxd4,Bxf5,Bxh6,Bxe4,Bg5,Qf5,Re3,Bxd4,g4,Qc5,Rxe4,Bxf2+,Kg2,Rxe4,Qxg6,Re2', 'Qxf7+,Kh8,Qh5#', 'https://lichess.org/training/Qxcqo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QXd7V', 'Rapid', 'POLLOTENERO1', 2131, 'souissi', 1711, 'e4,e6,d4,c5,Nf3,cxd4,c3,dxc3,Nxc3,Ne7,Bg5,Qa5,Qd2,Nec6,Bd3,Bb4,O-O,O-O,a3,Be7,Be3,d5,b4,Qd8,exd5,exd5,Nxd5,Bd6,Rfd1,Bg4,Be2,Bxf3,Bxf3,Qh4,g3,Qf6,Bg2,Ne5,Bd4,Nf3+,Bxf3,Qxf3,Be3,Nc6,Nc3,Rad8,Qe2,Qf6,Nd5,Qg6,Bf4,Bxf4,Nxf4,Qf6,Nd5', 'Rxd5,Rxd5,Qxa1+', 'https://lichess.org/training/QXd7V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QxEFN', 'Blitz', 'vamoza', 2082, 'DrMaque', 2186, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Bg5,Ne4,Bf4,Nxc3,bxc3,c6,e3,O-O,cxd5,cxd5,Be2,Nc6,O-O,Bf5,h3,Rc8,g4,Be4,Ng5,e5,Nxe4,exf4,Nc5,b6,Nd3,fxe3,fxe3,Na5,Qc1,Nc4,Nb2,Nxb2,Qxb2,Qe7,Rf3,Bh6,Qd2,Rfe8,Kf2,Qh4+,Kg2,Re7,Bf1,Rce8,Re1,Bg5,Qd3,h5,gxh5,Qxe1,hxg6,Rf8,gxf7+,Rfxf7,Rxf7,Rxf7,Qg6+,Rg7', 'Qe8+,Kh7,Bd3+,Kh6,Qh8+,Rh7,Qxh7#', 'https://lichess.org/training/QxEFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QxfQa', 'Bullet', 'frapit', 1937, 'ersan26', 1902, 'e4,d6,d4,Nd7,c4,e5,Nc3,Ngf6,Bg5,Be7,Nf3,O-O,Be2,c6,O-O,Qc7,d5,c5,Nh4,Rd8,Nf5,Bf8,f4,a6,Rf3,h6,Bxf6,Nxf6,fxe5,dxe5,Qf1,Kh7,Bd3,Ne8,Nxh6,Kxh6,Rxf7,Be7,Re1,Qd6,Re3,Bf6,g4,Bg5,Rh3+,Kg6,Rf2,Nf6,Rf5,Nxg4,Rxg5+,Kxg5,Be2,Qf6,Qg2,Qf4,Rg3,Kh4,Qh3+,Kg5,Qg2,Kh4,Rh3+,Kg5,Bxg4,Bxg4,Rg3,Kh4,h3,Bh5,Rxg7,Qe3+,Kh2,Rf8', 'Rg4+,Bxg4,Qxg4#', 'https://lichess.org/training/QxfQa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qxGMY', 'Classical', 'HopeSpringsEternal', 2058, 'jonmk', 2254, 'd4,Nf6,c4,c5,d5,e5,Nc3,d6,e4,Be7,Nf3,Nbd7,Bd3,Nf8,h3,Ng6,g3,O-O,Be3,Bd7,Qe2,a6,Nd2,Qc8,f4,Bxh3,f5,Bg4,Qh2,Nh8,Bg5,h5,Be2,Bxe2,Nxe2,g6,g4,Nxg4,Qh4,Bxg5,Qxg5,Qd8,Rxh5,Qxg5,Rxg5,Ne3,Rc1,b5,b3,Kg7,Rg3,Nxc4,bxc4,Kf6,Rf3,gxf5,exf5,Rg8,Ne4+,Ke7,Kf2,f6,Rg3,Nf7,Rcg1,Rxg3,Rxg3,bxc4,Rg6,Rh8,Rxf6,Rh2+,Kf3,Ng5+,Nxg5,Kxf6,Ne4+,Kxf5,Nxd6+,Kg5,Nxc4,Rh3+,Ke4,Rh4+,Kd3,Rh3+,Kd2,Kf6,d6,Ke6,Nc3,Rh4,Kd3', 'Rd4+,Ke2,Rxc4', 'https://lichess.org/training/qxGMY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QxgTm', 'Rapid', 'ThiagoSSoler', 1952, 'ZZakir96', 1965, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Nf3,Re8,O-O,c6,Bg5,e5,dxe5,dxe5,Qxd8,Rxd8,Nxe5,Nbd7,Rfd1,Re8,Bxf6,Nxf6,f4,Be6,Rac1,Rad8,Rxd8,Rxd8,Rd1,Rxd1+,Bxd1,h5,b3,Bh6,g3,Bf8,Nd3,Nd7,Na4,f5,Bf3,b5,cxb5,cxb5,Nc3,a6,Kf2,Kg7,Ke2,Nc5,Nxc5,Bxc5,exf5,Bxf5,Ne4,Bg1,h4,Be6,Nc5,Bc8,Bb7', 'Bg4+,Kd3,Bxc5', 'https://lichess.org/training/QxgTm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QxHsF', 'Rapid', 'kazarey', 1637, 'ghostbombs357', 1629, 'e4,c6,d4,d5,e5,Bf5,h4,h6,g4,Bh7,f4,e6,Bd3,Bxd3,Qxd3,Bb4+,Bd2,Bxd2+,Nxd2,Ne7,f5,exf5,gxf5,Nd7,Ngf3,Qb6,O-O-O,O-O-O,Rhg1,g6,fxg6,fxg6,e6,Nf6,Ne5,Rhg8,Nxg6,Nxg6,Rxg6,Ne4,Rdg1,Nf2,Qe3,Rxg6,Rxg6,Ne4,Nxe4,dxe4,Qxe4,Rxd4,Rg8+,Rd8,Qg4', 'Qe3+,Kb1,Qe1+,Qd1,Qxd1#', 'https://lichess.org/training/QxHsF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qXIyu', 'Rapid', 'ptr-o', 1667, 'dr_ko', 1633, 'e4,e5,Nf3,Bc5,Bc4,d6,c3,c6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Bg4,Qf4,Nf6,O-O,b5,Bb3,a5,a3,Bxf3,Qxf3,O-O,Nc3,Nbd7,Rfe1,Qb6,Rad1,a4,Ba2,b4,axb4,Qxb4,Re2,a3,bxa3,Rxa3,Rd3,c5,e5,cxd4,exf6,Ne5,Qe4,Nxd3,Bxf7+,Rxf7', 'Qe8+,Rf8,f7+,Kh8,Qxf8#', 'https://lichess.org/training/qXIyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qxkHU', 'Rapid', 'Valanjoo', 1880, 'Tukobe', 1957, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,e5,Ng4,e6,f5,h3,Ne5,Bb3,Qf6,f4', 'Nf3+,gxf3,Qxd4', 'https://lichess.org/training/qxkHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qXkMX', 'Blitz', 'asdem', 1643, 'aals10', 1676, 'e4,f5,exf5,Nf6,Ne2,d5,Nf4,Bxf5,Nh5,Bg6,Nxf6+,gxf6,d4,Nc6,Nc3,Qd6,Bb5,O-O-O,O-O,h5,Bxc6,Qxc6,Bf4,e5,dxe5,d4,Ne2,Be4,Nxd4,Bxg2,Nxc6,Bxc6,Qe2,Rg8+,Bg3,h4,exf6,hxg3,Qe6+,Kb8,Qxg8,gxh2+,Kxh2,Bd6+,Qg3', 'Rh8+,Kg1,Rh1#', 'https://lichess.org/training/qXkMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QXkRg', 'Rapid', 'SocraticQuestion', 2029, 'UkiOnna', 1884, 'e4,e5,f4,d5,exd5,e4,Nc3,Nf6,d3,Bb4,Bd2,e3,Bxe3,Bxc3+,bxc3,Qxd5,Nf3,O-O,Be2,Re8,Bf2,Ng4,O-O,Ne3,Bxe3,Rxe3,Qd2,Re7,c4,Qd8,d4,Bf5,Ne5,Nd7,Rfe1,Nxe5,fxe5,Rxe5,Qf4,Re4,Qxf5,Qxd4+,Kh1,Rxe2,Red1,Qf2,Qd5,h6,Qxb7,Rae8,h3,Rxc2,Rf1,Qg3,Qd5,Ree2,Qxf7+,Kh7,Qf5+,Kg8,Qd5+,Kh7,Qf5+,Qg6,Qxg6+,Kxg6,Rg1,Rxc4,a4,Rcc2,a5,c5,a6,Rf2,Ra5,Kf6,Rb5,Ra2,Rxc5,Rxa6,Rc8,Raa2,Rf8+,Ke5,Re1+,Kd4,Rd8+,Kc3,Re3+,Kc4,Rg3,a5,Rxg7,a4,Rc7+,Kb3', 'Rb8+,Ka3,Rc3#', 'https://lichess.org/training/QXkRg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qXKST', 'Rapid', 'D0NB4N3', 1761, 'halacumdalabacum', 1772, 'd4,d5,Nc3,e6,Bf4,Bd6,Bg3,Nf6,Nf3,Nbd7,e3,Bxg3,hxg3,O-O,Bd3,c5,dxc5,Nxc5,Ng5,Nxd3+,Qxd3,g6,f4,Kg7,Kf2,Rh8,Rad1,h6,Nf3,Ng4+,Ke1,a6,Qd4+,Qf6,Ne5,Nxe5,fxe5,Qg5,Qf4,Qxf4,gxf4,f6,exf6+,Kxf6,Kf2,Bd7,Ne2,Bc6,g4,e5,Rhg1,g5,Kg3,Rag8,fxe5+,Kxe5,Nd4,Bd7,Kf2,h5,gxh5,Rxh5,Ke2,Rh2+,Kd3,g4,Rdf1,g3', 'Nf3+,Kd6,Nxh2', 'https://lichess.org/training/qXKST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QXLw3', 'Rapid', 'Katastrov82', 1876, 'ArgyleMonkey', 1843, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qf3,Qxf3,gxf3,dxc6,Be3,Bd6,Nd2,Ne7,Nc4,b5,Nxd6+,cxd6,O-O-O,d5,exd5,Nxd5,Bxb5,cxb5,Rxd5,Bb7,Rxb5,Bxf3,Re5+,Kd7,Re1,Rhe8,Rf5,Bg4,Rg5,Be6,Rxg7,Rac8,Rd1+,Ke7,a3,a6,c3,Bf5,Rdg1,Bg6,h4,Kf8,Bd4,h5,f4,Re4,f5', 'Rxd4,R1xg6,fxg6', 'https://lichess.org/training/QXLw3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QxP2o', 'Rapid', 'SebiSunshine', 1629, 'Chessy64', 1671, 'Nf3,Nc6,e4,d6,d4,e6,d5,exd5,exd5,Nce7,c4,b6,Nc3,Bd7,Bf4,Nf6,Bd3,Bf5,b4,Bxd3,Qxd3,Ng6,Bg5,Be7,Bxf6,Bxf6,Rd1,O-O,O-O,Ne5,Nxe5,Bxe5,Ne4,Qh4,g3,Qh6,f4,Bf6,a4,a6,c5,bxc5,bxc5,Be7,c6,Rfb8,Rb1,a5,Rxb8+,Rxb8,Qa6,Rb2,Qc8+,Bf8,Rf2,Rb1+,Kg2,Qg6,Nc3,Rb4,Qxc7,Qd3,Nb5,Qxd5+,Kh3,Qh5+,Kg2,Qd5+,Kh3,Rxa4,Qd8,Qxb5,c7,Rc4,c8=Q,Rxc8,Qxc8,Qh5+,Kg2,Qd5+,Kh3,Qh5+,Kg2,Qd5+,Kf1,g6,Qc3,Qh1+,Ke2,Qe4+,Qe3,Qc2+,Kf3,Qc6+,Ke2,d5,Rf1,Qc4+,Kf3,d4,Qc1,Qd5+,Ke2,Qe4+,Kd2,Qe3+,Kc2,Qc3+,Kd1,Qd3+,Ke1,Bb4+,Kf2,Bd2,Qc8+,Kg7,Qe8', 'Be3+,Kf3,Qxf1+', 'https://lichess.org/training/QxP2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QXpb5', 'Classical', 'witekszachy', 1808, 'willemvogel', 1820, 'd4,d5,e3,Nf6,h3,e6,a3,Be7,Nc3,c5,b3,Nc6,Nf3,a6,Ne5,Qc7,Nxc6,Qxc6,Qd2,O-O,dxc5,Bxc5,b4,Be7,b5,axb5,Bxb5,Qc7,a4,Bd7,Bxd7,Qxd7,O-O,Rfc8,Nb5,Ne4,Qd3,Nd6,Nxd6,Qxd6,Ba3,Qd7,Bxe7,Qxe7,Rfc1,Rc7,c4,Rac8,a5,Rxc4,Rxc4,Rxc4,a6,bxa6,Rxa6,Rc1+,Kh2,Qc7+,g3,g6,Ra8+,Kg7,Qd4+,Kh6,Rg8,Kg5,f4+,Kh5', 'g4+,Kh4,Qf6+,g5,Qxg5#', 'https://lichess.org/training/QXpb5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qxpc2', 'Rapid', 'pupper1994', 1891, 'nur_nss', 1906, 'd4,Nf6,c4,d5,Bg5,c6,e3,g6,Be2,Bg7,Nf3,Ne4,Bf4,Bg4,c5,Nd7,Nc3,Bxf3,Bxf3,Nxc3,bxc3,b6,cxb6,axb6,O-O,c5,Qc2,e6,Rfe1,O-O,Rad1,c4,e4,dxe4,Bxe4,Nf6,Bxa8,Qxa8,Qe2,Nd5,Bg3,Nxc3,Qc2,Nxd1,Rxd1,b5,Be5,Qd5,f4,b4,Rc1,Bxe5,dxe5,Rc8,Kf1,Kg7,Rd1,Qb5,g4,b3,axb3,cxb3+,Qe2,Qxe2+,Kxe2,Rc2+,Rd2,Rc4,Ke3,Rc3+,Kd4,Rc2,Kd3,Rc7,Rb2,Rb7,Kc3,g5,fxg5,Kg6,h4,h6,gxh6,Kxh6,Rxb3,Rc7+,Kd3,Rd7+,Ke4,Rd5,Rf3,Kg7,Rf6,Ra5,h5,Ra4+,Kf3,Ra5,Kf4,Ra4+,Kg5,Re4,h6+,Kf8,Kh4,Rxe5', 'h7,Kg7,Rxf7+,Kxf7,h8=Q', 'https://lichess.org/training/Qxpc2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QxpYy', 'Blitz', 'GM Nurlan_Ibrayev', 2421, 'YakubowMurat', 2096, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,O-O,Nf6,c3,b5,Bc2,d6,d4,exd4,cxd4,Bb6,h3,O-O,Bg5,h6,Bh4,Re8,Nc3,b4,Bxf6,Qxf6,Nd5,Qg6,e5,Qh5,Nf4,Qxf3,Qxf3,Nxd4,Qxa8,Nxc2,Rac1,Nd4,exd6,c6,Rfe1,Rf8,Kf1,a5,Qb8', 'Ba6+,Kg1,Rxb8', 'https://lichess.org/training/QxpYy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qXq00', 'Rapid', 'OChess2021', 2103, 'puLA321', 1896, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Qb6,Nf3,Nf6,e5,Ng4,Nd5', 'Qxf2#', 'https://lichess.org/training/qXq00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qxqr2', 'Rapid', 'abdhaboosh55555', 2255, 'TheBishopX', 2114, 'd4,e6,c4,f5,Nf3,Nf6,g3,Be7,Bg2,O-O,Nc3,Nc6,O-O,d6,Re1,a5,e4,fxe4,Nxe4,Qe8,b3,Qg6,Nh4,Qe8,Bb2,Nxe4,Rxe4,Bf6,Qd2,Bxh4,Rxh4,Qf7,Rf4,Qg6,d5,Ne7,dxe6,Bxe6,Bxb7,Rxf4,Bxa8,Rf8,Qxa5,Qc2,Bd4,c5,Be3,Nf5,Bf4,h6,Re1,Nd4,Be4', 'Ne2+,Rxe2,Qxe2', 'https://lichess.org/training/qxqr2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qXQTR', 'Rapid', 'cheeska', 1728, 'Joel_1972', 1725, 'd4,d5,c4,dxc4,Nc3,a6,a4,e6,e4,Bb4,Bxc4,Bxc3+,bxc3,Nf6,Ba3,Nxe4,Qc2,f5,Nf3,Nc6,O-O,Bd7,Rad1,Ne7,Ne5,O-O,Rfe1,b5,axb5,axb5,Nxd7,Qxd7,Bxe7,Qxe7,Bxb5,Rab8,Bd3,Qa3,Bxe4,fxe4,Rxe4,Rb2,Qc1,Rfxf2,Rg4,Qd6,Rf1,e5', 'Rxf2,Rxf2,Kxf2', 'https://lichess.org/training/qXQTR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qxsjf', 'Rapid', 'abdulkadirfb', 1980, 'viriatus88', 1926, 'd4,Nf6,Nf3,g6,c3,Bg7,g3,O-O,Bg2,d6,O-O,Nc6,Re1,Bd7,Bg5,Rb8,Bxf6,exf6,Nbd2,Re8,e4,Bg4,Qa4,b5,Qb3,Na5,Qc2,c5,d5,Qd7,b3,Rec8,Rac1,Nb7,c4,a5,cxb5,Qxb5,Nc4,f5,e5,dxe5,Nfxe5,Bxe5,Nxe5,Nd6,Nxg4,fxg4,Re7,c4,bxc4,Rxc4,Qd1,Rxc1,Qxc1,Rc8,Qf4', 'Qb1+,Bf1,Rc1,Qxc1,Qxc1', 'https://lichess.org/training/Qxsjf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qXT3X', 'Rapid', 'LordAntonius', 1670, 'Arul14', 1673, 'd4,d5,c4,dxc4,Nc3,Nf6,Bf4,e6,e3,Bb4,a3,Bd6,Bxc4,Bxf4,exf4,O-O,Nf3,Nc6,O-O,b6,Ne2,Bb7,Ng5,h6,Nf3,Re8,Ne5,Nxe5,fxe5,Nd5,Bb3,Qg5,Ng3,h5,f3,h4,Ne4,Qe3+,Rf2,Qh6,h3,Ne3,Qd3,Nd5,Bc2,Qg6,Qe2,Nf4,Qf1,Bxe4,Bxe4,Qg5,Kh2,Qg3+,Kh1,Rad8,Rd1,c5,Bc6,Re7,dxc5', 'Rxd1,Qxd1,Qxf2', 'https://lichess.org/training/qXT3X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QxtGf', 'Classical', 'posterado', 1611, 'Romano95', 1604, 'd4,e6,e4,Nc6,Nf3,Nf6,Nc3,d6,Bd3,Bd7,Be3,Be7,O-O,O-O,h3,e5,d5,Nd4,Nxd4,exd4,Bxd4,c6,e5,dxe5,Bxe5,cxd5,Nxd5,Nxd5,Bxh7+,Kxh7,Qxd5,Kg8,Qxb7,Rb8', 'Bxb8,Qxb8,Qxd7', 'https://lichess.org/training/QxtGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qXTpt', 'Rapid', 'stranac2', 1820, 'mtnoakes91', 1871, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Bc5,c4,c6,cxd5,cxd5,d4,Bb6,Qf3,Nf6,Bg5,Be6,Ne2,Nbd7,O-O,O-O,Nbc3,h6,Bh4,g5,Bg3,Ne4,Nxe4,dxe4,Qxe4,Bxb3,axb3,Re8,Qd3,Nf6,Be5,Ng4,Qf3,Nxe5,dxe5,Rxe5,Rad1,Qe7,Ng3,Re8,Nf5,Qe6,Ng3,h5,Nxh5,Re1,Rdxe1,Qxe1,Nf6+,Kf8,Nxe8,Qxe8,Qxb7,Qe2,g3,Qxb2,Qc8+,Kg7,Qc4,a5,Rd1', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/qXTpt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qxUs2', 'Blitz', 'Lapochka85', 1534, 'vicah', 1521, 'd4,Nf6,Nf3,e6,c4,c5,d5,d6,Bg5,Be7,b4,cxb4,Qa4+,Bd7,Qxb4,Qc7,e3,Na6,Qc3,Nc5,Be2,Nce4,Qc2,Nxg5,Nxg5,h6,dxe6,fxe6', 'Qg6+,Kd8,Nf7+,Kc8,Nxh8', 'https://lichess.org/training/qxUs2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QxUS4', 'Rapid', 'ticheng', 1743, 'Leod52', 1787, 'd4,d5,c4,c6,Nc3,g6,Nf3,Bg7,e3,Nf6,cxd5,Nxd5,Bd3,Bg4,O-O,O-O,h3,Bd7,e4,Nxc3,bxc3,Qc8,Bf4,Na6,Qd2,Nc7,Bh6,Ne6,Bxg7,Kxg7,d5,cxd5,exd5,Nc7,c4,Na6,Rfe1,Qd8,Qg5,f6,Qh4,Nc5,Ng5,fxg5,Qd4+,Kg8,Qxc5,Rc8,Qe3,Bf5,Bxf5,Rxf5,Rac1,Rc7,g4,Rf4,Qe6+,Kg7,c5,Qf8,Rf1,Rf3,Qe5+,Kh6,Kg2,Ra3,Qxc7,Qf3+,Kh2', 'Qxh3+,Kg1,Qxg4+', 'https://lichess.org/training/QxUS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qxv2M', 'Rapid', 'Mojtaba1359v', 1934, 'Konstantin_Goncharov', 1756, 'e4,c5,f4,e6,Nf3,d5,exd5,exd5,d4,cxd4,Qxd4,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,Nf6,Nc3,Be7,Ne5,Bb7,Be3,O-O,Qb6,Rb8,Nxc6,Bxc6,Qxc6,d4,Rad1,Rxb2,Bxd4,Qb8,Bxf6,Rc8,Qf3,Bxf6,Nd5,Rcxc2,Ne3,Qb6', 'Qa8+,Qb8,Qxb8+,Rxb8,Nxc2', 'https://lichess.org/training/qxv2M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qxw1I', 'Rapid', 'Vladimir_1949', 1997, 'mrbrownnnn', 1957, 'd4,Nf6,h3,e6,Bf4,b6,e3,Bb7,Nf3,Be7,c4,O-O,Nc3,c5,Be2,cxd4,exd4,d5,cxd5,Nxd5,Nxd5,Bxd5,O-O,Nc6,a3,Rc8,Rc1,Bd6,Qd2,Qc7,Bxd6,Qxd6,Rfd1,Qb8,b4,Bxf3,Bxf3,Ne7,Rxc8,Rxc8,Qg5,Qc7,Qe5,Qc3,Qg5,Ng6,h4,Qxa3,h5,h6,Qb5,Ne7,Bb7,Rd8,Qc4,Nd5,b5,Qb4', 'Bxd5,Qxc4,Bxc4', 'https://lichess.org/training/qxw1I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QXwOP', 'Blitz', 'Ansh_kul', 1735, 'Ghoderao1970', 1525, 'e4,c5,f4,e6,Nf3,Nc6,c3,a6,d4,cxd4,cxd4,b5,Nc3,Bb7,Bd3,Qb6,Be3,Nf6,O-O,Ng4,Qe2,Nxe3,Qxe3,Nxd4,Nxd4,Bc5,Nce2,d6,Rac1,e5,Rxc5,exd4,Qf3,dxc5,f5,c4,Bb1,d3+,Kh1,dxe2,Qxe2,O-O,f6,g6,Qg4,Rae8,Qg5,Kh8,Qh6,Rg8,Rf3,Bxe4', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/QXwOP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QXx4w', 'Blitz', 'DJGrobGrob', 1670, 'CM GOMEZ2019', 2414, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,e6,Nf3,b6,Nc3,Bb7,Bd3,Na6,Nxd5,exd5,O-O,Be7,Re1,Nc7,Bd2,Ne6,Rc1,h6,a3,a5,Rc3,O-O,Bb1,f5,exf6,Rxf6,Rce3,Bd6,Qc2,Nf8,Ne5,Rc8,Qd3,Qe8,Nc6,Qf7,Ne7+,Bxe7,Rxe7,Qh5,Re8', 'Rxe8,Rxe8,Qxe8', 'https://lichess.org/training/QXx4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qxXQp', 'Classical', 'irregularis', 1764, 'HadiSeeeee', 1640, 'd4,c5,c3,cxd4,cxd4,g6,Nf3,Nf6,Bf4,Bg7,e3,O-O,Bd3,d6,O-O,Bg4,Nbd2,e5,dxe5', 'dxe5,Bxe5,Qxd3', 'https://lichess.org/training/qxXQp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qxxRa', 'Rapid', 'CrapCrusher', 1839, 'm2lisi', 1782, 'Nf3,c5,e4,Nf6,Nc3,g6,e5,Nh5,d3,d6,h3,dxe5,Nxe5,Bg7,Nxf7,Kxf7,Qf3+,Nf6,Ne4,Rf8,Nxc5,Kg8,Nxb7,Nd5', 'Nxd8,Rxf3,gxf3', 'https://lichess.org/training/qxxRa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qxy5R', 'Blitz', 'krashr', 1654, 'poserchild', 1614, 'c4,e5,Nc3,Bb4,g3,c6,Bg2,d5,d3,d4,a3,Bxc3+,bxc3,dxc3,Qb3,Qa5,Nf3,Na6,O-O,Nf6,Ra2,Nc5,Qb4,Qxb4,axb4,Nb3,Nxe5,Nxc1,Rxc1,O-O,Rxc3,Re8,d4,Nd7,Nxd7,Bxd7,d5,Re5,dxc6,Bxc6,b5,Bxg2,Kxg2,Rae8,e3,Ra8,c5,a6,bxa6,Rxa6,Rb2,Ra7,c6,bxc6', 'Rb8+,Re8,Rxe8#', 'https://lichess.org/training/Qxy5R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qxyXT', 'Blitz', 'braahasn1', 1847, 'ApTeMoN', 1869, 'Nf3,d5,d4,Nf6,Bg5,Bf5,e3,h6,Bh4,e6,Bd3,Bxd3,Qxd3,Be7,Ne5,O-O,f4,a6,Nd2,c5,g4,Nfd7,g5,hxg5,fxg5,Bxg5,Bxg5,Qxg5,h4,Qg3+,Kd1,cxd4,Qxd4,Qxe5,Qg4,Qxb2,Rb1,Qxa2,Rg1,g6,h5,Ne5,Qg5,Nf3,Nxf3,Qxb1+,Kd2,Qb4+,Ke2,Qc4+,Kd2,Qe4,h6,Nd7,Rf1,Rac8,Nd4,e5,Nf5,Qxc2+,Ke1,Qc1+,Kf2,Rc2+,Kg1,Qd2,Ne7+,Kh7', 'Rxf7+,Rxf7,Qxg6+,Kh8,Qg8#', 'https://lichess.org/training/qxyXT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QxYzb', 'Rapid', 'jesusluna', 1729, 'matyszkowicz', 1672, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,Nc6,Bxf6,Qxf6,e3,a6,Nxd5,Qd6,Bc4,Be6,e4,Bxd5,exd5', 'Qb4+,Kf1,Qxc4+,Qe2+,Qxe2+', 'https://lichess.org/training/QxYzb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qxZSl', 'Rapid', 'alec-holland', 1673, 'Janco73', 1680, 'c4,e5,Nc3,Bc5,Nf3,Nc6,g3,Nf6,d3,h6,Bg2,O-O,O-O,a6,b3,Ba7,Bb2,d6,Nd2,Nd4,Nce4,Re8,e3,Nc6,Nxf6+,Qxf6,Ne4,Qg6,h3,Ne7,d4,Bf5,Nd2,e4,Qc2,Qe6,Kh2,c6,Qc3,d5,Ba3,Rac8,Bb2,Bb8,Rac1,h5,Qb4,h4,Qxb7,hxg3+,fxg3,Qd6,Rf4,Ng6,c5,Qf6,Rxf5,Bxg3+,Kxg3,Qh4+,Kh2,Ne7,Rf4,Qh6,Nf1,g5,Rg4,f5,Kg1,fxg4,hxg4,Ng6,Ng3,Qh4,Rf1,Qh7,Qxa6,Qe7,Nf5,Qd7,Nd6,Ra8,Qe2,Rf8,Nf5,Nh4,Nh6+,Kh7,Rxf8,Rxf8,Nf5,Nxf5,gxf5,Qxf5,Qh5+,Kg7,Kh2', 'Rh8,Qxh8+,Kxh8', 'https://lichess.org/training/qxZSl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QXZuL', 'Rapid', 'wahidsyria', 1984, 'ahmad512', 1867, 'd4,e6,c4,d6,Nc3,Nf6,e4,Be7,Bg5,Nxe4,Bxe7,Nxc3,Bxd8,Nxd1,Bxc7,Nxb2,Bxb8,Rxb8,Nf3,Nxc4,Bxc4,d5,Bb5+,Bd7,Bxd7+,Kxd7,Ne5+,Ke7,O-O-O,f6,Nd3,Rhc8+,Kd2,Rc4,Rhe1,Rxd4,Ke2,e5,Kf1,b6,f3,Rc8,Ke2,Rc2+,Rd2,Rxd2+,Kxd2,Kd6,Ke3,Ra4,Re2,d4+,Kf2,Ra3,Nc1,a5,f4,a4,fxe5+,fxe5,Rd2,Rc3,Ne2,Rc4,Ng3,Kd5,Nf5,g6', 'Ne3+,Kc5,Nxc4', 'https://lichess.org/training/QXZuL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qy03T', 'Rapid', 'Askat', 1845, 'Omygood71', 1831, 'e4,c5,f4,Nc6,c3,g6,Be2,Bg7,d3,d6,Na3,a6,Nf3,b5,Be3,Bb7,Nc2,Qb6,d4,Na5,b3,Bxe4,b4,Nc4,bxc5,dxc5,Bxc4,bxc4,O-O,Bd3,Rf2,Rd8,dxc5,Qa5,Bd4,Bxd4,cxd4,Nf6,Ne5,Ne4,Rf3,Nc3,Qe1,Ne2+,Kf2,Qxe1+,Nxe1,Nxd4,Re3,Nf5,Rh3,Be4,Nxc4,Rc8,Rb3,O-O,Ne3,Rxc5,g4,Nd4,Rb4,Nc2,N3xc2,Bxc2,Rc1,Rfc8,Ke2,Be4', 'Rxc5,Rxc5,Rxe4', 'https://lichess.org/training/Qy03T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qy15h', 'Blitz', 'yodinomi', 2037, 'AndyPipkin69', 2183, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,e4,O-O,Bg5,c5,d5,e6,Be2,exd5,exd5,Re8,O-O,h6,Bh4,g5,Bg3,Ne4,Nxe4,Rxe4,Bd3,Re8,Qc2,Bg4,Nd2,Be2,Rfe1,Bxd3,Rxe8+,Qxe8,Qxd3,Bxb2,Rb1,Be5,Re1,Nd7,Qf5,Qd8,Bxe5,Nxe5,f4,gxf4,Ne4,Kg7,Nxd6,Qxd6,Rxe5,f3,gxf3,Qf6,Qe4,Rg8,Kf1,Kh8,Rf5', 'Qa1+,Qe1,Rg1+,Kxg1,Qxe1+', 'https://lichess.org/training/qy15h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QY2dn', 'Rapid', 'sheykhneyshabur', 2015, 'chaddyboy25', 2137, 'e4,e5,Nf3,Nc6,c3,d5,exd5,Qxd5,Be2,Nf6,O-O,Bg4,Na3,O-O-O,Nc2,h5,h3,Bxf3,Bxf3,Qd7,Re1,g5,Bxc6,Qxc6,Rxe5,g4,Nd4,Qd6,Re3,Bh6,Nf5,Qf8,Nxh6,Qxh6,d4,Qg6,Qd3,Qg7,Qf5+,Kb8,Bd2,Rdg8,h4,Rd8,g3,Rd5,Qf4,Qg6,Rae1', 'Rf5,Qg5,Rxg5', 'https://lichess.org/training/QY2dn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qY2t6', 'Rapid', 'edisonorellanaramos', 1640, 'pabloka', 1660, 'e4,c5,Nc3,e6,g3,d5,exd5,exd5,Bg2,d4,Qe2+,Be7,Nd5,Nc6,d3,Be6,Nf4,Qd6,Nxe6,fxe6,Nf3,Nf6,Bf4,e5,Nxe5,Nxe5,Bxe5,Qe6,O-O,Nd7,f4,Nxe5,fxe5,Rb8,Rae1,Rf8,Rxf8+,Kxf8,Rf1+,Kg8,b3,b6,Qh5,g6,Qe2,Rf8,Rxf8+,Bxf8,Qe4,Bg7,Qb7,Qxe5', 'Bd5+,Qxd5,Qxd5+', 'https://lichess.org/training/qY2t6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qy56B', 'Blitz', 'Richmondpunk', 1664, 'Ryan0726', 1647, 'e4,c5,Nf3,Nc6,Bc4,d6,c3,Bg4,d3,Nf6,Nbd2,e6,Bb3,Be7,h3,Bh5,Nf1,O-O,Ng3,Bxf3,Qxf3,Re8,O-O,a5,a3,a4,Bc2,Ne5,Qe2,d5,f4,Nc6,e5,Nd7,Be3,Bh4,d4,cxd4,cxd4,Bxg3,Qg4,Qh4,Qf3,Nf8,f5,Rac8,fxe6,Rxe6', 'Qxf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/Qy56B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qY63N', 'Classical', 'kri-kri', 1668, 'skype2018', 1674, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Bc4,Nd7,Bb5,Qb6,Be3,Nxd4,Bxd7+,Bxd7,Bxd4,Qxb2,Rb1,Qa3,Rxb7,e5,Bxe5,Qa6,Qb1,dxe5,Rb8+,Rxb8,Qxb8+,Ke7', 'Nd5+,Ke6,Nc7+,Kf6,Nxa6', 'https://lichess.org/training/qY63N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QY6qI', 'Blitz', 'Jwchessmaster', 2393, 'FM ly4o', 2551, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nb3,Nf6,Nc3,e6,Be3,Qc7,Bd3,a6,f4,d6,g4,b5,g5,Nd7,Qd2,Bb7,O-O-O,Be7,h4,Rc8,Kb1,Na5,Nxa5,Qxa5,f5,b4,Ne2,exf5,Ng3,fxe4,Bxe4,Bxe4,Nxe4,O-O,Nxd6,Rc7,Ne4,Ne5,Qg2,Nc4,Nf6+,Kh8,Bd4,Bc5,Qe4,Bxd4', 'Qxh7#', 'https://lichess.org/training/QY6qI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QY8lD', 'Blitz', 'Sara99999999', 1682, 'mlaw33', 1676, 'e4,e6,d4,b5,Nd2,Bb7,Bd3,c5,dxc5,Bxc5,Bxb5,Qf6,Ngf3,a6,Bd3,Nc6,O-O,Bd6,Nc4,Bc7,Bg5,Qg6,e5,Qh5,h3,f5,exf6,gxf6,g4,Qxh3,Be3,Qxg4+,Kh1,Ne5,Nxe5,Bxf3+,Nxf3,Ne7,Rg1', 'Qh3+,Nh2,Qxh2#', 'https://lichess.org/training/QY8lD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qy9lK', 'Blitz', 'Thenuharshan', 1778, 'Anujan20', 2017, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Be2,Be7,O-O,Qc7,Qd2,b5,a3,Bb7,Bd3,Nbd7,f4,Rc8,f5,e5,Nf3,Nc5,h3,Ncxe4,Nxe4,Nxe4,Qb4,Nc5,Be2,O-O,Nh2,Ne4,Bd3,Nf6,Qd2,e4,Be2,d5,c3,Bc5,Bd4,Bxd4+,Qxd4,Qc5,Qxc5,Rxc5,g4,g6,g5,Nd7,f6,Ne5,Rad1,Rd8,Ng4,Nxg4,Bxg4,Kf8,Rd4,Rc6,Rfd1,Rcd6,b3,Ba8,c4,bxc4,bxc4,Bc6,cxd5,Rxd5,Rxd5,Rxd5,Rxd5,Bxd5,Kf2,Ke8,a4,Kd8,Be2,Bc6,Ke3,a5,Bd1,Kd7,Bc2,Ke8,Kf4,Bd7,Kxe4,Bxh3,Kd5,Kd8,Kd6,Be6,Bd1,Bg4,Bc2,Bf5', 'Bxf5,gxf5,Ke5,Ke8,Kxf5', 'https://lichess.org/training/Qy9lK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QyBiW', 'Blitz', 'geoeg', 1649, 'Newmap', 1633, 'd4,d5,c4,dxc4,e4,Bd7,Nc3,Nc6,Bxc4,e5,Nf3,exd4,Nxd4,Nxd4,Qxd4,b6,O-O,Nf6,Nd5,Bc5,Qe5+,Be7,Nxc7+,Kf8,Nxa8,Qxa8,Bd5,Qe8,Bg5,Nxd5,exd5,Bxg5,Qxg5,h6,Qe3,Qa8,Qa3+,Kg8,Qd6,Bf5,Rac1,Kh7,Rc7,Rd8,Qe7,Bg6,Rd7,Re8,Qd6,Qc8,Qc6,Qa6,Rxa7', 'Qxf1+,Kxf1,Bd3+,Kg1,Re1#', 'https://lichess.org/training/QyBiW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QyBp4', 'Rapid', 'Peter_Tenglund', 1808, 'kondratei', 1812, 'e4,c5,Bc4,Nc6,Qf3,Ne5,Qb3,e6,d3,a6,Bf4,Nxc4,Qxc4,d5,exd5,exd5,Qb3,b5,a4,Be6,c3,c4,Qc2,b4,cxb4,Bxb4+,Kd1,Rc8,a5,Nf6,Qa4+,Nd7,Qxb4,cxd3,Nf3,Nc5,Na3,O-O,Rc1,Ne4,Be3,Rxc1+,Kxc1,Qc8+,Kd1,Bg4,h3,Bxf3+,gxf3,Nf6,Bc5,Re8,Re1,Rxe1+,Kxe1,Qe8+,Be3,h6,Kd2,Qc8,Kxd3,Qxh3,Qb8+,Kh7,Qf4,Qf1+,Kd4,Qd1+,Ke5,Qh1,Nc2,Qb1,Nd4,Qxb2,Qf5+,Kg8,Bxh6', 'Qb8#', 'https://lichess.org/training/QyBp4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QYBs3', 'Rapid', 'romankutov', 1813, 'Ugo_Fantozzi', 1842, 'd4,d5,c4,Nf6,Nc3,Nc6,Bg5,e6,Bxf6,Qxf6,cxd5,exd5,Nxd5,Qd6,e4,Be6,Bc4,Bxd5,Bxd5,Qb4+,Qd2,Qxd2+,Kxd2,Bb4+,Kd3,O-O,a3,Ba5,b4,Bb6,Nf3,Rad8,Rac1,Nxd4,Nxd4,c6,Nf5,cxd5,Ne7+,Kh8,Nxd5,Bxf2,Rhf1,Bh4,Rc7,f5,Rxb7', 'fxe4+,Ke2,Rxf1', 'https://lichess.org/training/QYBs3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qYDbj', 'Rapid', 'SAlbernaz', 2364, 'itay121', 2381, 'e4,c5,Nf3,e6,c3,Nf6,d4,cxd4,Bd3,dxc3,bxc3,d5,e5,Nfd7,Bg5,Qc7,Nbd2,Nxe5,Nxe5,Qxe5+,Be3,Nc6,O-O,Qxc3,Nb3,Qf6,Qc2,Bd7,Nc5,Nb4', 'Nxd7,Nxc2,Nxf6+,gxf6,Bxc2', 'https://lichess.org/training/qYDbj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qyDej', 'Rapid', 'bartosz546', 1860, 'ViktorSV1', 1898, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Nc3,Bf5,Bb5,a6,Ba4,b5,Bb3,e6,O-O,Bg4,h3,Bxf3,Qxf3,Nxd4,Qe3,Nxb3,axb3,Nf6,Re1,Rc8,Qe5,Bd6,Qg5,Bb4,Bd2,O-O,Rxa6,d4,Nxb5,h6,Qf4,Bxd2,Qxd2,Qd5,Nxd4,Rfd8,Ra4,e5,c3,exd4,cxd4,Rd6,Re5,Qxb3,Qb4,Qd1+,Re1,Rxd4', 'Rxd1,Rxb4,Rxb4', 'https://lichess.org/training/qyDej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qyDGc', 'Rapid', 'Yevge94', 1658, 'papagiannis', 1661, 'd4,Nf6,e4,d5,e5,Ng8,Nf3,Bg4,Be2,f6,exf6,Nxf6,Bg5,e6,Nc3,Bb4,Qd2,O-O,a3,Be7,Ne5,Bf5,O-O,Nc6,Nb5,Nxe5,dxe5,Ne4,Bxe7,Nxd2,Bxd8,Nxf1,Bxf1,Rfxd8,Nxc7,Rac8,Nb5,Rxc2,b4,a6,Nd6,d4,Nxb7,Rb8,Nd6,d3,Rd1,d2,f3,Bd3', 'Bxd3,Rc1,Be2', 'https://lichess.org/training/qyDGc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qYdu5', 'Blitz', 'putri2006', 2090, 'JandaBohay', 1764, 'e4,e5,f4,Nc6,Nf3,exf4,d4,Bb4+,c3,Ba5,Bc4,d6,Bxf4,Nf6,O-O,O-O,Bg5,h6,Bxf6,Qxf6,Ne5,Qg5,Nxf7,Qe3+,Kh1,d5,Bxd5,Ne7,Nxh6+,Kh7,Nf7,Nxd5,Qh5+,Qh6,Ng5+,Kg8', 'Rxf8+,Kxf8,Qf7#', 'https://lichess.org/training/qYdu5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QYEfp', 'Rapid', 'alirezachemist110', 1786, 'Yvk1989', 1808, 'e4,e5,d3,Nf6,Nf3,Nc6,g3,Bc5,Bg2,O-O,O-O,h6,Nc3,d6,a3,Bg4,b4,Bb6,Na4,Nd4,Nxb6,axb6,c3,Nc6,h3,Bh5,g4,Bg6,Nh4,Bh7,g5,Nd7,gxh6', 'Qxh4,Qg4,Qxg4', 'https://lichess.org/training/QYEfp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QyEhx', 'Rapid', 'leonkiller', 1624, 'ASzilagyi', 1755, 'd4,d5,Nc3,e6,e4,dxe4,Nxe4,Nf6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,c3,O-O,Bd3,b6,Qf3,Qxf3,Nxf3,Bb7,Ke2,Bxf3+,Kxf3,Nd7,Be4,Rab8,Bc6,Nf6,Ke2,Rfd8,f3,Rd6,Be4,Nh5,g4,Nf6,Bd3,Nd5,Rad1,Re8,c4,Nf4+,Ke3,Ng2+,Kf2,Nf4,Be4,Red8,Ke3,Ng2+,Kf2,Nf4,Ke3,Ng6,Rd3,Ne7,Rhd1,f5,gxf5,exf5,Bb7,Re6+,Kf4,Re2,R1d2,Rxd2,Rxd2,g6,d5,Nc8,Re2,Nd6,Ba6,Kf7,a4,Kf6,Re6+,Kf7,Bb5,Nxb5,axb5,Ra8,Ke5,a6,bxa6,Rxa6,d6', 'Ra5+,Kd4,Kxe6', 'https://lichess.org/training/QyEhx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QyEj2', 'Rapid', 'zuoc', 1549, 'Ricardo-A-27', 1525, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,O-O,h6,Nc3,Be6,Bxe6,fxe6,a3,a6,b4,Bd4,Bd2,b5,g3,Qf6,Nh4,g5,Nf3,Nge7,Nxd4,exd4,Ne2,h5,Qc1,Rg8,f3,e5,h3,O-O-O,a4,h4,g4,Kd7,axb5,axb5,Kg2,Ra8,Rxa8,Rxa8,Bxg5,Qh8,Qe1,Ra2,Bxh4,Rxc2,Bf2,Rb2,Ng3,Nxb4,Nf5,Nxf5,exf5,Nxd3,Qe4,Nxf2,Rxf2,Rxf2+,Kxf2,Qxh3,f6,Ke6,g5,Qf5,Qg4,b4,g6,Kxf6', 'Qxf5+,Kxf5,g7,Ke6,g8=Q+', 'https://lichess.org/training/QyEj2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QyER3', 'Rapid', 'Leo_Foltran', 1659, 'sirbok', 1648, 'e4,d6,Nf3,Nf6,Nc3,Bg4,Bc4,e5,d3,g6,h3,Bxf3,Qxf3,Bg7,Bg5,Nbd7,O-O,O-O,Ne2,c6,c3,Qb6,Bb3,Nc5', 'Bxf6,Bxf6,Qxf6,Nxb3,axb3', 'https://lichess.org/training/QyER3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qyeSK', 'Rapid', 'Mildor', 1690, 'prodi9y', 1713, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bc5,e3,d6,exd6,O-O,Be2,Bxd6,Bxd6,cxd6,O-O,Qf6,Nc3,Nb4,a3,Nc6,Nd4,Nxd4,exd4,Qg6,Nd5,Qg5,f4,Qh4,h3,Nh6,Re1,Nf5,Bg4,Nh6,Bxc8,Raxc8,Ne7+,Kh8,Nxc8,Rxc8,Qc1,Nf5,d5,Qg3,Re4,Nh4,Qf1,f5,Re2,h6,Rae1,Rxc4,Re3,Qg6,Qf2,Rxf4,Qd2,Qg5,R3e2,Qg3,Qe3', 'Nf3+,Qxf3,Rxf3', 'https://lichess.org/training/qyeSK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QYfpn', 'Blitz', 'FM nilwil', 2461, 'Ocinitram', 2456, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,Nf3,Nxc3,bxc3,g6,d4,Bg7,Bf4,O-O,e3,c5,Be2,Nc6,O-O,Re8,Bg3,Qa5,Qb3,Bg4,Qxb7,Rac8,Rfc1,e6,Qb5,Qa3,Nd2,Bxe2,Qxe2,cxd4,cxd4', 'Nxd4,exd4,Rxc1+,Rxc1,Qxc1+', 'https://lichess.org/training/QYfpn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qYhTz', 'Rapid', 'vanraj01', 1978, 'yasar11kocas', 1966, 'e4,d5,exd5,Qxd5,d4,Nf6,Nf3,Bg4,Be2,e6,O-O,c6,c4,Qd8,Qb3,Qc7,Nc3,Nbd7,Be3,Bd6,h3,Bh5,Rac1,a6,d5,exd5,cxd5,c5,Qd1,O-O,Nh4,Bxe2,Qxe2,Bh2+,Kh1,Bf4,Qf3,Bxe3,fxe3,Rfe8,Nf5,Qe5,e4,g6,Ng3,b5,Rce1,b4,Nd1,Re7,b3,h5,h4,Ng4,Ne3,Ndf6,Nc4,Qb8,e5,Qe8,d6,Re6,Ne4,Nxe4,Rxe4,Rd8,Rf4,Nxe5,Nxe5,Rxe5,Rxf7,Re1,d7', 'Rxf1+,Qxf1,Qxf7', 'https://lichess.org/training/qYhTz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qyIgA', 'Rapid', 'Wellusia', 1649, 'sachosta', 1645, 'd4,d5,Bf4,Nf6,c3,h6,e3,a6,Bd3,Ne4,Nd2,Bf5,Ngf3,e6,Qc2,Nxd2,Qxd2,Bxd3,Qxd3,Nd7,O-O-O,c5,Kb1,c4,Qd2,Nf6,h3,Ne4,Qc2,Bd6,Bxd6,Nxd6,Nd2,b5,g3,a5,e4,a4,exd5,O-O,dxe6,fxe6,f4,a3,g4,Qa5,b3,cxb3,Nxb3,Qa4,Rdf1,Nc4,Qd3,Nb2,Qe2,Qc4,Qd2,Qd3+,Qxd3,Nxd3,f5,exf5,gxf5,Rac8,Rhg1,Rxc3,f6,Rf7,Rxg7+,Rxg7,fxg7,Kxg7,Rf3,b4,Rg3+,Kh7,Rf3,Kg6,d5,Nc5,Rxc3,bxc3,Kc2,Nxb3', 'Kxb3,c2,Kxc2', 'https://lichess.org/training/qyIgA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QYiME', 'Rapid', 'marmutop', 1962, 'Bobbos', 1904, 'd4,c6,c4,d5,Nf3,Nf6,Nc3,Bf5,cxd5,cxd5,Qb3,Qc7,Nxd5,Nxd5,Qxd5,e6,Qb5+,Nc6,e3,O-O-O,Bd2,a6,Qa4,Qb6,Rc1,Kb8,Be2,Bb4,Bxa6,Bxd2+,Nxd2,Qxa6,Qxa6,bxa6,Rxc6,Rc8,Rc4,Rxc4,Nxc4,Rc8,b3,Bd3,Kd2,Bxc4,bxc4,Rxc4,Rb1+,Kc7,Kd3,Rc6,Rb3,Kd6,e4,Rc1,Rc3,Rh1,h3,Rh2,e5+,Kd7,Ra3,Rxg2,Ke3,Rh2,Rxa6,Rxh3+,Ke4,f5+,exf6,gxf6,Ra7+,Ke8,a4,h5,a5,h4,a6,Ra3,Rh7,Rxa6,Rxh4,Kf7,f4,f5+,Ke5', 'Ra5+,Kd6,Rd5+', 'https://lichess.org/training/QYiME');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QyjWn', 'Blitz', 'Jugglepro', 1762, 'Wojtasmistrz', 1693, 'e4,e5,f4,Nc6,Nf3,Bc5,fxe5,Nd4,Bc4,d5,exd5', 'Nxf3+,Qxf3,Qh4+,g3,Qxc4', 'https://lichess.org/training/QyjWn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qyksk', 'Rapid', 'donoran', 1807, 'shlo', 2121, 'e4,e6,d4,d5,exd5,exd5,h3,Bd6,Nf3,Ne7,Be2,Bf5,Be3,Nbc6,c3,Ng6,Qb3,O-O,Qxb7,Bd7,Qb3,Rb8,Qc2,Re8,O-O,Nh4,Nbd2,Bf5,Bd3,Bxd3,Qxd3,Nxf3+,Nxf3,Rxb2,Ng5,g6,Rfb1,Rxb1+,Rxb1,Na5,Nf3,Nc4,Nd2,Nxe3,fxe3,Qh4,Nf3,Qe7,Re1,Kg7,Kf2,Qd7,Qa6,c5,Rb1,Qe6,Re1', 'Bg3+,Kxg3,Qxa6', 'https://lichess.org/training/Qyksk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qyKUc', 'Rapid', 'aleksey2015', 1719, 'xinziber', 1789, 'd4,d5,c4,e5,cxd5,Qxd5,e3,Nc6,Nc3,Qd8,d5,Nce7,e4,Nf6,Nf3,Ng6,h3,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/qyKUc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QyLs1', 'Rapid', 'Diegoro', 1737, 'pinkblac', 1838, 'c4,e5,Nc3,Nf6,g3,Nc6,Bg2,a6,e3,Bb4,Qc2,Qe7,Nge2,d6,a3,Bxc3,Nxc3,Nd4,exd4,exd4+,Ne4,Bf5,d3,h6,O-O,O-O-O,b4,Qd7,Nxf6,gxf6,Bb2,c5,a4,h5,h4,Bh3,b5,a5,b6,Bxg2,Kxg2,Qc6+,Kh2,Rdg8,Rab1,Rg4,Bc1,Rhg8,Rg1,Qe4,Qd2', 'Rxh4+,gxh4,Qxh4#', 'https://lichess.org/training/QyLs1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QYnEQ', 'Rapid', 'jaydevvadher91', 1796, 'Babloog', 1819, 'e4,c6,d4,d6,f4,Nf6,Bd3,Qc7,Nf3,Bg4,O-O,Nbd7,c3,h6,Qc2,Rc8,e5,dxe5,fxe5,Nd5,Bf5,Bxf5,Qxf5,e6,Qh5,Be7,Ng5,O-O,Nxf7,c5,Bxh6,Bf6,exf6,N7xf6,Qe5,Qxf7,Bg5,cxd4,Qxd4,Qh5,Bxf6,Rxf6,Rxf6,gxf6,Na3,Kf7,Qxa7,Rh8,Qxb7+,Kg6,h3,Qg5,c4,Nf4,Kf1,Qg3,Qf3,Qg5,Qg4', 'Qxg4,hxg4,Rh1+,Kf2,Rxa1', 'https://lichess.org/training/QYnEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qYPW8', 'Blitz', 'ypcrumble', 1721, 'eduspicaba', 1709, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e6,Nc3,Nf6,Bg5,Be7,f4,O-O,Qf3,Nbd7,O-O-O,Qc7,g4,a6,Bxf6,Bxf6,g5,Bxd4,Rxd4,Rb8,h4,b5,f5,Ne5,Qg3,exf5,exf5,Bb7,Rg1,Qc5,g6,Qxd4', 'gxh7+,Kxh7,Qxg7#', 'https://lichess.org/training/qYPW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QyQBw', 'Rapid', 'Karog', 1605, 'User74728376472', 1632, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qc7,Qf3,Nf6,O-O-O,Bg4,Bf4,Bxf3,Bxc7,Bxd1,Kxd1,Nbd7,Bc4,e6,a3,Rc8,Bg3,Nd5,Ne4,Be7,Bd6,f5,Bxe7,Kxe7,Ng5,b5,Ba2,h6,N5f3,g5,h3,g4,hxg4,fxg4,Ne5,Nxe5,dxe5,Rcd8,Kc1,Nf4,g3,Ng6,Ne2,Nxe5,Rh5,Nd7,Nf4,Nf8,Re5,Rd6,Nd3,Nd7,Rh5,Nf6,Re5,Rg8,Nf4,Rgd8,b4,Rd1+,Kb2,R8d6,Nxe6,Kf7,Nf4+,Kg7', 'Re7+,Kh8,Ng6#', 'https://lichess.org/training/QyQBw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QyqKB', 'Blitz', 'Simpic', 1550, 'Jesus_1984', 1751, 'd4,e6,Nf3,c5,dxc5,Bxc5,Bg5,f6,Bf4,Ne7,Bxb8,Rxb8,Nc3,O-O,e3,d5,Bd3,Bb4,Qd2,e5,Nh4,Nc6,a3,Ba5,b4,Bb6,Bb5,d4,exd4,Nxd4,Bc4+,Kh8,Qd3,f5', 'Ng6+,hxg6,Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/QyqKB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QyQkc', 'Rapid', 'yuki11042015', 1885, 'SergeyVadimovich', 1742, 'e4,c6,Nf3,d6,d4,Nd7,c4,h6,Nc3,Qa5,Bd2,e6,Nd5,Qd8,Nc3,Qa5,Be2,g5,h3,e5,dxe5,dxe5,Nd5,Qd8,Nc3,Qc7,Qc2,Ngf6,O-O-O,Be7,g4,Nc5,Be3,Be6,Rd2,Rc8,Rhd1,a6,a3,b5,cxb5,cxb5,Nd5,Bxd5,exd5,O-O,d6,Bxd6,Rxd6', 'Nb3+,Kb1,Qxc2+', 'https://lichess.org/training/QyQkc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qYqZZ', 'Blitz', 'Wladik_Marmeladik', 1698, 'moosaassy', 1619, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,Nc3,Bc5,d3,h6,Nd5,d6,O-O,Bg4,h3,Bh5,Be3,Nxd5,Bxd5,Ra7,Bxc6+,Kf8,Bxc5,dxc5,g4,Bg6,Nxe5,Qd6,Nxg6+,Qxg6,Bd5,c6,Bb3,h5,f4,hxg4,Qxg4,Qf6,c3,Rh6,Kh2,Ke7,Rf3,Ra8,e5,Qg6,Rg3,Qh7,Qxg7,Rxh3+,Kg2,Rh2+,Kf3,Qxd3+,Kg4,Qe2+,Kf5,Rh5+,Rg5', 'Qd3+,Kg4,Qh3#', 'https://lichess.org/training/qYqZZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QYr3m', 'Blitz', 'pkchess141', 1528, 'fizwiq7', 1506, 'e4,e5,Nf3,Nc6,d4,f5,Nc3,Bb4,Bd3,Nf6,d5,fxe4,dxc6,exd3,Qxd3,dxc6,Qxd8+,Kxd8,O-O,Bd6,Bg5,Ke7,Ne4,h6,Nxf6,gxf6,Bh4,Bg4,Nd2,Rhg8,Ne4,Bf3,Nxf6', 'Rxg2+,Kh1,Rg6#', 'https://lichess.org/training/QYr3m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qyrOh', 'Rapid', 'SV123', 1847, 'amineghafir', 1942, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nf6,d4,Bb4,Bd3,O-O,O-O,c5,dxc5,Bxc5,Na4,Be7,Ng5,Nc6,h3,Ne5,Be2,Bd7,c3,h6,Nf3,Ng6,b4,Qe8,Re1,Bxa4,Qd2,Bc6,Nd4,Ne4,Qc2,Qd7,b5,Bxb5,Bxb5,Qd6,Nf5,Qf6,g4,Qb6,Bd3,Bc5,Be3,Bxe3,Nxe3,Nc5,Nxd5,Qd6,Bc4,Rfe8,Nc7,Rxe1+,Rxe1,Rc8,Ne8,Qc6,Qe2,Nf4,Bxf7+,Kxf7', 'Qe7+,Kg8,Qxg7#', 'https://lichess.org/training/qyrOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QySBx', 'Classical', 'jeq', 1614, 'Sanchitsingh89', 1721, 'd4,d5,c4,c5,Nc3,dxc4,Nf3,e6,Bg5,Nf6,e3,Nc6,Bxc4,cxd4,Nxd4,Nxd4,exd4,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/QySBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qYSoy', 'Rapid', 'Patricia5', 1962, 'Babafunke', 1863, 'e4,e5,Nf3,Nc6,c3,Nf6,Bb5,d6,Bxc6+,bxc6,O-O,Nxe4,Qa4,Nc5,Qxc6+,Bd7,Qd5,Be7,d4,Nd3,dxe5,Nxc1,Rxc1,Be6,Qc6+,Bd7,Qe4,O-O,Nbd2,Re8,Qc2,dxe5,Nxe5,Bd6,Nxd7,Qxd7,Nc4,Bf4,Rd1,Qg4,b3,Re2,Qd3,Rae8,h3,Qe6,g3,Bd6,Ne3,Rb2,Kg2', 'Qxe3,Qxe3,Rxe3', 'https://lichess.org/training/qYSoy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qYtdt', 'Blitz', 'AnasKhwira', 2173, 'alexbawtry', 2242, 'c4,c6,d4,d5,cxd5,cxd5,Nc3,Nf6,g3,Bf5,Bg2,e6,Nf3,a6,O-O,h6,Bf4,Nc6,Rc1,Bd6,a3,Bxf4,gxf4,O-O,Ne5,Rc8,f3,Qb6,Nxc6,Rxc6,e4,dxe4,fxe4,Bh7,e5,Nd7,Bxc6,bxc6,Na4,Qb5,Nc5,Nxc5,Rxc5,Qxb2,Rxc6,Be4,Rf2,Qxa3,Qc1,Qh3,Rc8,Rxc8,Qxc8+,Kh7,Qxa6', 'Qg4+,Kf1,Qd1#', 'https://lichess.org/training/qYtdt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QYU5B', 'Rapid', 'pawne4d4', 1856, 'SomeRookie', 1826, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,e5,d4,exd4,Qxd4,Nf6,Nf3,Nc6,Qe3+,Be7,O-O,O-O,Nc3', 'd4,Qd3,dxc3', 'https://lichess.org/training/QYU5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QYUid', 'Classical', 'erdem216', 1725, 'mustafabey', 1668, 'd4,d5,c4,dxc4,Nf3,b5,g3,Bb7,Bg2,Nc6,Ne5,Qd6,Nxc6,Bxc6,Bxc6+,Qxc6,O-O,Rd8,Nc3,a6,d5,Qf6,e4,e6,Re1,Qg6,Qf3,Bb4,dxe6,Qxe6,Bg5,Rd3,Rad1,f6,Rxd3,cxd3,Qxd3,fxg5,Nd5,Qd6,Rc1,c5,Nxb4,Qxd3,Nxd3,c4,Nc5,Nf6,e5,Nd7,Nxa6,Nxe5', 'Re1,Kd7,Rxe5', 'https://lichess.org/training/QYUid');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QyvuG', 'Classical', 'Ferhad14', 1953, 'Abu-Ghassan', 1947, 'd4,e6,c4,d5,Nc3,Be7,Nf3,Nf6,Bg5,O-O,e3,Nc6,cxd5,exd5,Bd3,h6,Bh4,Ng4,Bxe7,Qxe7,Nxd5,Qd6,Nc3,Nb4,h3,Nxd3+,Qxd3,Nf6,a3,Qb6,b4,Qc6,Rg1,Bf5,Qd2,Bxh3,Ne5,Qe6,gxh3,Qxh3,Qe2,b6,Qf1,Qe6,Qg2,g5,Kd2,Qb3,Nd7,Nxd7', 'Qxg5+,hxg5,Rxg5+,Kh7,Rh1#', 'https://lichess.org/training/QyvuG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QYWtj', 'Rapid', 'jenspetermann', 1705, 'Abkos', 1715, 'd4,g6,Bf4,d6,e3,Nf6,Nf3,Bg4,Be2,Bg7,Nbd2,O-O,c3,Na6,Qc2,c5,dxc5,Nxc5,h3,Bf5,Qc1,Nd3+,Bxd3,Bxd3,c4,Rc8,b3,Qa5,Kd1,Ne4,Nxe4,Bxa1,Nxd6,exd6,Qxa1,Qh5,g4,Qc5,Qf6,Qc6', 'Bh6,Qxf3+,Qxf3', 'https://lichess.org/training/QYWtj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QYy05', 'Classical', 'kevin-zhexia', 1627, 'orten90', 1642, 'd4,Nf6,c4,g6,Bf4,Bg7,e3,d6,Nf3,O-O,Bd3,a6,h3,c5,d5,b5,b3,bxc4,Bxc4,Ne4,Nbd2,Qa5,O-O,Nc3,Qc2,Bf5,Qb2,Ne2+,Bxe2,Bxb2,Bh6,Bxa1,Bxf8,Bc3,Bxe7,Bxd2,Bxd6,Qxa2,Bxc5,Nd7,Be7,Ba5,Bg5,Qxb3,Bh6,Qxd5,Rd1,Qa2,Bf1,f6,e4,Be6,Nd4,Bc4,Bxc4+,Qxc4,Nf3,Ne5,Nxe5,fxe5,Rd7,Qc1+,Bxc1,Rd8,Rxd8+,Bxd8,Kf1,Kf7,Ke2,Ke6,Ke3', 'Bg5+,Kd3,Bxc1', 'https://lichess.org/training/QYy05');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qyyl4', 'Rapid', 'Gladiator_Maximus', 2380, 'B0jack82', 2142, 'e4,Nc6,Nf3,e6,d4,a6,c3,h6,Be3,Nge7,d5,exd5,exd5,Na7,c4,d6,Bd3,Bd7,O-O,g5,Bd4,Rg8,Re1,Nc8,Bh7,Rg7,Bxg7,Bxg7,Nc3,Kf8,Nd4,Be8,Bc2,Kg8,Nf5,Nxf5,Bxf5,Ne7,Bc2,Nc8,Qd3,Nb6,Rad1,Qf6,Bb3,Nd7,Ne4,Qxb2,Rd2,Ne5,Qe2,Qa3,Ng3,Bd7,Nh5', 'Bg4,Qe3,Bxh5', 'https://lichess.org/training/qyyl4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QYYna', 'Blitz', 'ojukillo', 1691, 'duskydolphin', 1723, 'd4,d5,c4,e6,e3,Nf6,Nc3,Nbd7,cxd5,exd5,Bd3,b6,e4,dxe4,Nxe4,Bb7,Nxf6+,Nxf6,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,Bxf3,gxf3,Qxd4,O-O-O,Qc5+,Kb1,O-O-O', 'Ba6+,Kb8,Qxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/QYYna');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qyzPA', 'Rapid', 'CampBigFalcon', 2061, 'Menandro1', 2000, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Bd3,Qc7,c3,Ngf6,Re1,e5,Bc2,Be7,d4,O-O,Nbd2,b6,Nf1,Bb7,Ng3,Rac8,Nf5,Rfe8,d5,Bf8,h3,b5,a4,b4,c4,Rb8,b3,Bc8,Nh2,Nb6,g4,Bxf5,gxf5,Kh8,Kh1,Be7,Rg1,Rg8,f4,Nbd7,Qf3,exf4,Bxf4,Ne5,Qg3,Nh5,Qf2,Nxf4,Qxf4,Bf6,Raf1,Qe7,Ng4,Nxg4,hxg4,Be5,Qf2,Bd4,Qh2,Bxg1,Rxg1,f6,Kg2,Qe5', 'Qxh7+,Kxh7,Rh1+,Qh2+,Rxh2#', 'https://lichess.org/training/qyzPA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qz1QI', 'Blitz', 'TULUtana-04', 2142, 'XxMcVan2008xX', 1709, 'e4,c5,Nf3,e6,d4,d5,dxc5,Bxc5,exd5,exd5,Bb5+,Nc6,Nc3,Be6,Ne5,Qc7,Bf4,Bd6,Bxc6+,bxc6,Qe2,Nf6,Rd1,O-O,O-O,Rab8,b3,Ne8,Rfe1,Rb4,Bg3,Nf6,a3,Ne4,axb4,Nxc3,Qd3,Nxd1,Qxd1,Re8,Qh5,g6,Qh6,Bf8,Qh4,Be7,Qd4,Qb7,Ng4,Qxb4', 'Nh6+,Kf8,Qh8#', 'https://lichess.org/training/qz1QI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QzABM', 'Blitz', 'hutsle_the_musle', 1822, 'Mathaias83', 1871, 'd4,e6,e4,b6,c4,Bb7,Nc3,Nc6,a3,Nge7,Nf3,d5,e5,Nf5,cxd5,exd5,Qd3,Qd7,g3,Be7,Bh3,g6,Nh4,Bxh4,gxh4,Nce7,Bg5,c6,O-O-O,Bc8,Rhe1,Qc7,Kb1,Be6,Rc1,O-O-O,Nb5,Qd7,Nd6+,Nxd6,exd6,Qxd6,Qa6+,Kb8,Bxe6,fxe6,Re5,Rdf8,Rce1,Rxf2,Rxe6,Qxh2,R1e2,Rxe2,Rxe2,Qg1+,Ka2,Nf5,Bf6,Rf8,Be5+,Ka8,Rc2,Nxd4,Bxd4,Qxd4,Rxc6,Qc4+,Qxc4,dxc4,Rxc4,Rf3,Rc7,Kb8,Rxh7,g5,hxg5,Rg3,Rg7,a5,g6,b5,Rg8+,Kc7,Rg7+,Kc6,Rg8,Kc5,Rg7,Kc4,Rc7+,Kd3,Re7,Kc2,Rg7,Kd3,Rg8,Kc4,Rg7,b4,Rc7+,Kb5,Rd7', 'b3+,Ka1,Rg1+,Rd1,Rxd1#', 'https://lichess.org/training/QzABM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qzbEJ', 'Rapid', 'DeltaWolfishere', 1972, 'EarthRed', 1968, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,Bg5,Bg4,h3,Bh5,Nbd2,Nbd7,c3,c6,Qc2,Bxf3,Nxf3,Qc7,Rfe1,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Bf4,Bxf4,Qxf4,Re3,Kh8,Rae1,Rae8,c4,Rxe3,Rxe3,Re8,Rxe8+,Nxe8,cxd5,Qc7,dxc6,Qxc6,Qe2,Nef6,b3,Qc1+,Kh2,Qf4+,g3,Qd6,Qe3,Qe6,Qh6+,Kg8,Bc4', 'Ng4+,hxg4,Qxh6+', 'https://lichess.org/training/qzbEJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qzbr1', 'Blitz', 'NM aquiles88', 2354, 'CHINOKAR', 2153, 'g3,d5,Bg2,e6,Nf3,Nf6,O-O,g6,d3,Bg7,Nbd2,O-O,e4,c5,exd5,Nxd5,a4,b6,Nc4,Bb7,Re1,Nc6,c3,a6,Bg5,Qc7,Qb3,Na7,Rad1,b5,axb5,axb5,Na3,b4,cxb4,Nxb4,Nc4,Nb5,Bf4,Qc8,Nb6,Qc6,Nxa8,Bxa8,Nh4,Nd5,Rc1,Nd4,Qc4,Rc8,Nf3,Nb6,Nh4,Qd7,Qa6,Bxg2,Kxg2,Qc6+,f3,h6,Be3,g5,Bxd4,Bxd4,b4,c4,dxc4,gxh4,c5,Nd5,Qxc6,Rxc6,Red1,Be3,Rc4,hxg3,hxg3,Rc8,b5,Bg5,c6', 'Ne3+,Kh3,Nxc4', 'https://lichess.org/training/Qzbr1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qZcdp', 'Rapid', 'Nuris101', 1768, 'Woody49', 1779, 'e4,d5,e5,c5,f4,Bf5,c3,e6,d4,c4,Nf3,Ne7,Be2,Ng6,O-O,Bxb1,Rxb1,Be7,Be3,b5,b3,a6,a4,Nd7,bxc4,bxc4,Ng5,Bxg5,fxg5,O-O,Qe1,Rb8,Rxb8,Qxb8,h4,Nb6,Bd1,Ne7,h5,Nf5,Bd2,Qe8,a5,Na8,Bg4,Nc7,Bxf5,exf5,Rxf5,Ne6,Rf3,Qd8,Qg3,Qxa5,g6,hxg6,hxg6,Nxd4,gxf7+,Rxf7,Rxf7', 'Ne2+,Kh2,Nxg3', 'https://lichess.org/training/qZcdp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qZcMk', 'Rapid', 'saeed2002', 1997, 'feefa', 2038, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Bf4,Nc6,c3,Bg4,Qb3,Qc8,Nd2,e6,Ngf3,Be7,O-O,O-O,Rfe1,a6,Ne5,Bh5,Ndf3,b5,Nxc6,Qxc6,Ne5,Qb7,Re3,Nd7,Qc2,Nxe5,Bxh7+,Kh8,Rh3,Ng6,Rxh5,Nxf4', 'Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/qZcMk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qzf8z', 'Rapid', 'phantom355', 1830, 'abdullahsalem72', 1703, 'f4,e6,Nf3,d5,e3,b6,Be2,Ba6,O-O,Bxe2,Qxe2,Nf6,d3,c5,Nc3,Nc6,a3,Be7,h3,O-O,Nh2,d4,Ne4,dxe3,Bxe3,Nd4,Bxd4,Qxd4+,Kh1,Qxb2,Rfb1,Qd4,c3,Qd7,g4,Rad8,Rd1,Nd5,Qf3,f5,gxf5,exf5,c4,fxe4,dxe4,Qc7,cxd5,Rxf4,Qg3,Rf1+', 'Nxf1,Qxg3,Nxg3', 'https://lichess.org/training/qzf8z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QZGUB', 'Blitz', 'attaker49', 2014, 'Scorpion_King', 1961, 'e4,d6,d4,Nf6,Bd3,e5,d5,Nbd7,c4,Nc5,Nc3,c6,Nf3,cxd5,cxd5,Be7,O-O,Bg4,h3,Bxf3,Qxf3,O-O,Bg5,a6,Rac1,b5,Bb1,h6,Bh4,Rc8,Ne2,Na4,b3,Nc5,g4,Nh7,Bxe7,Qxe7,Ng3,Ng5,Qg2,g6,h4,Nh7,Qh3,a5,Rce1,a4,Bc2,Nxb3,Bxb3,axb3,axb3,Rc3,Rb1,Rfc8,Qh2,b4,Ne2,Rc2,Rfe1,Qd7,Qg3,Nf6,f3,Qb5,Qf2,R8c3,Rbc1,Rxc1,Rxc1,Rxc1+,Nxc1,Nd7,Qe3,Kg7,Nd3,Nc5,Nxc5,dxc5,Kf2,c4,bxc4,Qxc4,d6,b3,d7,b2,d8=Q,b1=Q', 'Qxh6+,Kxh6,Qh8#', 'https://lichess.org/training/QZGUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QZHJv', 'Classical', 'Elena-happy', 1878, 'GUNTUR22022002', 1897, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,Nxd5,Qxd5,Nf3,c5,e3,Bg7,b3,Bg4,Bb2,Nc6,dxc5', 'Qxd1+,Rxd1,Bxb2', 'https://lichess.org/training/QZHJv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qzI1V', 'Rapid', 'Luis_mirabet', 1897, 'migue5008', 1860, 'e4,b6,d4,Bb7,Bd3,e6,Ne2,d6,Be3,c5,c3,cxd4,cxd4,d5,e5,Nd7,O-O,a6,Nd2,Be7,f4,Nh6,Ng3,Bh4,Qf3,O-O,f5,Nxe5,dxe5,d4,Be4,Bxe4,Qxe4,dxe3,Qxe3,Bg5,Qe4,exf5,Nxf5,Qxd2,Rad1,Qxb2,h4,Nxf5,Qxf5,Bxh4,Rf3,Rae8,Rh3,Rxe5,Qd3,Qf2+,Kh1,Re2,Rg1,g5,g3,Re3,Qd5,h5,Rxh4,Rxg3', 'Qxg5+,Rxg5,Rxg5+,Kh7,Rhxh5#', 'https://lichess.org/training/qzI1V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qzJjm', 'Rapid', 'KR-V', 1766, 'isourg', 1923, 'd4,c6,Nf3,d6,e3,Bg4,Bd3,Nd7,Nbd2,e5,h3,Bh5,O-O,Ngf6,dxe5,dxe5,e4,Bd6,b3,O-O,Bb2,h6,Qe1,Bg6,Nh4,Bh7,Nf5,Bxf5,exf5,Re8,Ne4,Nxe4,Qxe4,Nf6,Qh4,Be7,Bxe5,Nd5,Qg3,f6,Bb2,Bd6,Qg6,Nf4,Bc4+,Kh8,Qg4,b5,Bd3,Bc7,Rad1,Qd6,g3,Nd5,c4,bxc4,Bxc4,Qf8,Bxd5,cxd5,Rxd5,Bb6,Rd7,Rad8,Rfd1,Rxd7,Rxd7,Re1+,Kg2,Qa8+,Qf3', 'Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/qzJjm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qzlCt', 'Blitz', 'hm5343', 1567, 'Denis00001', 1588, 'd4,d5,c4,e6,a3,Nf6,Bg5,Be7,Nc3,h6,Bh4,Nc6,Nf3,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Nd2,f5,d5,exd5,cxd5,Nd4,e3,Qd6,Qa4+,Bd7,Qxd4,c5,Qxg7,O-O-O,Bc4,b5,Ba2,c4,Qd4,Be8,O-O,Bh5,Nb1,Bf3,gxf3,Rhg8+,Kh1,Rg5,Nc3,Rh5,f4,Rg8,Rg1,Qd8,Nxb5', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/qzlCt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QzMT0', 'Rapid', 'Valexi92', 1653, 'donex1', 1674, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qxe4+,Qe2,Qxe2+,Kxe2,Bg4,h3,Bxf3+,gxf3,O-O-O,Re1,Re8+,Kf1,Rxe1+,Kxe1,Nf6,Nc3,Be7,Ne4,Re8,d3,Nd5,Be3,f5,Nc3,Nxe3,fxe3,Bh4+,Ke2,f4,e4,Re6,Rg1,Bg3,d4,h5,Kd3,h4,d5,cxd5,Nxd5,Rd6,c4,c6,Rc1,cxd5,cxd5+,Kd7,b4,g5,Kd4,Bf2+,Kd3,Bb6,a4,Bd8,Kd4,Rg6,e5,Rg8,b5,Bb6+,Ke4,Rc8', 'e6+,Kd8,e7+,Kxe7,Rxc8', 'https://lichess.org/training/QzMT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qznc5', 'Rapid', 'varietyg10', 1833, 'parsafakhar', 1922, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bb4,Bxc6,dxc6,d3,O-O,Bg5,Bg4,O-O,h6,Bh4,Be7,Nb1,a5,Nbd2,b5,Qe1,Qd6,Bg3,Nh5,Bxe5,Qd7,Bg3,Nxg3,fxg3,Bb4,Ne5', 'Qd4+,Qf2,Qxe5', 'https://lichess.org/training/Qznc5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QZNP1', 'Classical', 'AECClinic', 2006, 'bringiton61', 1940, 'd4,c5,d5,Nf6,c4,e6,Nc3,exd5,Nxd5,Nc6,Bg5,Be7,Nf3,Ne4,Nxe7,Nxe7,g3,d5,Bxe7,Qxe7,Qxd5,O-O,Bg2,g6,O-O,Re8,Rad1,Bg4,Nh4,Bxe2,Rfe1,Nxf2,Rd2,Qe3,Rexe2', 'Nh3+,Kf1,Qg1#', 'https://lichess.org/training/QZNP1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qZnP8', 'Rapid', 'bake77', 1928, 'josepanda-ivl', 1921, 'e3,e5,d4,d5,dxe5,Nc6,f4,Bf5,a3,g6,Nf3,Qd7,Nc3,O-O-O,Nd4,Be4,Qe2,a6,Bd2,Nxd4,exd4,Bxc2,Nxd5,Qxd5,Bc3,Bf5,Rg1,Ne7,g4,Bd7,O-O-O,Nc6,Kb1,h5,Bg2,Qe6,g5,Qf5+,Be4,Qxf4,Rdf1,Qh4,Rxf7,Be7,Be1,Bg4,Bxh4,Bxe2,Bxc6,bxc6,Rxe7,Rxd4,Re6,Rhd8,Bf2,Rc4,Rxg6', 'Bd3+,Ka2,Bxg6', 'https://lichess.org/training/qZnP8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QZPIH', 'Blitz', 'FM Frogkiller', 2456, 'NM picklebick', 2599, 'g3,Nf6,Bg2,g6,Nf3,Bg7,O-O,O-O,d4,d6,c4,c6,Nc3,Bf5,Nh4,Be6,b3,d5,c5,Qc8,Bf4,Bh3,Nf3,Bxg2,Kxg2,Nbd7,Ne5,Nh5,Nxd7,Nxf4+,gxf4,Qxd7,e3,b6,b4,a5,a3,axb4,axb4,Rxa1,Qxa1,Qg4+,Kh1,Qf3+,Kg1,bxc5,bxc5,Rb8,Qd1,Qh3,Ne2,Rb2,Ng3,h5,Qa1,Rd2,Qc1,Ra2,Qb1,Rd2,Qb4,Rc2,Qa4,Rd2,Qxc6,h4,Qxd5,hxg3,hxg3,Rc2,Qe4,Rc3,Qxe7,Bf8,Qe5,Rc2,Qe4,Rc3,c6,Qe6,Qxe6,fxe6,Rb1,Rxc6,Rb7,Bg7,Kg2,Bf6,Kf3,Rd6,g4,Rc6,g5,Bg7,Ke4,Kf8,Ra7,Rd6,Rc7,Rb6,Rd7,Rb2,f3,Rb3,Ra7,Rb6,Rd7,Rb3,Rd6,Ke7,Ra6,Bf8,Ra7+,Ke8,Ra6,Kf7,Ra7+,Be7,Ra2,Rc3,Re2,Bd6,Rh2,Ba3,Rh7+,Ke8,Rh2,Bc1,Re2,Ke7,Re1,Kd6,Re2,Kd7,Re1,Ba3,d5,Rc4+,Ke5', 'Bb2#', 'https://lichess.org/training/QZPIH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qZPVD', 'Rapid', 'Chesstirgit', 1687, 'ayham80', 1702, 'e4,c5,d4,cxd4,Nf3,Nf6,Nxd4,Nxe4,Bd3,Nf6,b3,a6,Bb2,d6,O-O,e5,Nf3,Be7,c4,O-O,Ng5,h6,Ne4,Nxe4,Bxe4,Be6,Bxb7,Ra7,Bd5,Bxd5,cxd5,Nd7,f4,f6,Qe2,Qc7,Nc3,Nc5,fxe5,dxe5,Ne4,Nxe4,Qxe4,Qd6,Rf3,Bd8,Rg3,Bb6+,Kh1,Rd7,Qh4,Be3,Rxe3,Qxd5,Ree1,Qd2,Rab1,Rfd8,h3,Qc2,Ba3,Rd2,Bb4,Rxg2,Qe4', 'Rh2+,Kg1,Qf2#', 'https://lichess.org/training/qZPVD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qzQlL', 'Rapid', 'Blaz58', 1853, 'brucki', 2001, 'e4,d6,Nf3,e5,Bc4,Nd7,Nc3,c6,a4,Be7,d3,Ngf6,h3,h6,Be3,g5,Qc1,Nh5,g3,Nf8,Qd2,Ng6,O-O-O,Bd7,Kb1,a6,d4,b5,Bb3,a5,dxe5,Nxe5,Nxe5,dxe5,Qe2,Ng7,axb5,cxb5,Nxb5,a4,Ba2,O-O,Nc3,Qc8,f4,Rb8,Ka1,Ba3,Rb1', 'Bxb2+,Rxb2,Qxc3', 'https://lichess.org/training/qzQlL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QzQx1', 'Rapid', 'Farhadzolghadr', 1708, 'Teesbor', 1699, 'd4,e6,e3,Nf6,h3,d5,Nf3,c5,dxc5,Bxc5,a3,Nc6,b4,Bd6,Bb2,O-O,Bd3,Re8,Nbd2,e5,Be2,h6,O-O,e4,Nd4,Nxd4,Bxd4,Bd7,Nb3,b6,Bxf6,Qxf6,Qxd5,Rac8,Rac1,Bc6,Qd1,Red8,Qe1,Qg6,c4,Bd7,Kh1,Be5,f4,Bb2,Rd1,Ba4,Rxd8+,Rxd8,Nd2,Bc3,f5,Qg5,Nxe4,Qxe3,Nxc3,Bc6,b5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/QzQx1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QZR4l', 'Rapid', 'Montypd', 1614, 'SomdS2791', 1610, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,Nc3,Be7,O-O,a6,b4,b5,Bd5,Nxd5,Nxd5,Bxg5,Bxg5,Qxg5,Nxc7,Ra7,Nd5,Bb7,a3,Nd4,Nb6,d5,exd5,Qd8,c3,Nf5,Qg4,g6,Rae1,Qxb6,Rxe5,Qd6,Rxf5,Bc8,Qf4,Qd7,Re5,f6,Re4,Bb7,Rd4,Bxd5,Qe3,Qe6,Rxd5,Qxd5,Qxa7,Qxd3,Qxa6,Rd8,Qe6+,Kg7,h3,Rd6,Qe7+,Kh6,Qf8+,Kh5,g4+,Kg5,f4+,Kh4,Qh6+,Kg3,f5,g5,Qf8,Qe3+,Kh1,Rd2,Rg1+', 'Qxg1+,Kxg1,Rd1#', 'https://lichess.org/training/QZR4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qZSE2', 'Blitz', 'leonardoleo0', 1569, 'siveure', 1603, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nd7,c4,c5,Nf3,cxd4,Nxd4,Bc5,Be3,Qc7,Nxc5,Nxc5,b4,Nd7,Bd3,Ngf6,O-O,b6,Nb5,Qb8,c5,bxc5,bxc5,O-O,Nd6,Nd5,Be4,Bb7,Bxd5,Bxd5,Qd4,a6,Bf4,Qd8,Rfe1,Ra7,c6,Nb6,Rac1,f6,Nb7,Qc8,Qxb6,Ra8,Qc7,Qxc7,Bxc7,Rfc8,Rcd1,Bxc6,Rd8+,Rxd8,Nxd8,Rc8,Rxe6,Rxc7,Rxc6,Rd7,h4,Rxd8,Rxa6,Rd2,a4,Ra2,h5,h6,g4,Ra1+,Kg2,Ra3,f3,Kf7,Kg3,g6,Kf4,g5+,Ke4,Ke7,Ra7+,Ke6,Rh7,Rxa4+,Ke3,Ra3+,Kf2,f5,Rxh6+,Ke5,Rh8,Kf4,gxf5,Ra2+,Kg1,Kg3,Re8', 'Ra1+,Re1,Rxe1#', 'https://lichess.org/training/qZSE2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QZSir', 'Rapid', 'jur7543', 1965, 'syko123', 2024, 'g3,Nf6,Bg2,d5,Nf3,c5,a3,Nc6,b3,e5,O-O,e4,Ne1,Be6,Bb2,Be7,d3,e3,fxe3,O-O,Nd2,Ng4,Rf3,Bg5,Nf1,Nce5,Bxe5,Nxe5,Rf2,Ng4,Rf3,d4,exd4,Bd5,e4,Bc6,dxc5,f5,h3,Qd4+,Kh1,Nf2+,Rxf2,Qxf2,Nh2,Be3,Nef3,Qxg3,Qe1,Bf2,Qe2,fxe4,dxe4,Rae8,Rf1,Rxe4,Qxf2,Qxf2,Rxf2,Re1+,Rf1', 'Rxf1+,Bxf1,Bxf3+', 'https://lichess.org/training/QZSir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QzSZK', 'Blitz', 'nekpol', 1743, 'asacom', 1723, 'e4,e5,f4,Nc6,Nf3,exf4,Nc3,g5,d4,Bg7,d5,Ne5,Nxe5,Bxe5,Bc4,Nf6,O-O,d6,Bb5+,Bd7,Bxd7+,Qxd7,Qd3,h5,a4,h4,Nb5,g4,Bxf4,Bxb2,Rae1,Nh5,e5,O-O-O,e6,fxe6,dxe6,Qe7,Nxa7+,Kb8,Nb5,c6,Bxd6+,Rxd6,Qxd6+,Qxd6,Nxd6,Bd4+,Kh1', 'Ng3+,hxg3,hxg3#', 'https://lichess.org/training/QzSZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qZUcW', 'Rapid', 'condotieros', 1713, 'BenjaminDerBauer', 1703, 'd4,Nf6,c4,d5,cxd5,Nxd5,Nc3,Nxc3,bxc3,c5,e4,cxd4,cxd4,e6,Nf3,Nc6,Bb5', 'Qa5+,Kf1,Qxb5+', 'https://lichess.org/training/qZUcW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QZuUO', 'Classical', 'Lenflammeur', 2009, 'DrWeb22', 1923, 'd4,g6,e4,Bg7,h4,e6,Nc3,d5,Bg5,f6,Be3,Ne7,Qd2,Bd7,h5,b6,exd5,exd5,Nxd5,Nxd5,Bh6,Qe7+,Be2,Nc6,O-O-O,O-O-O,Re1,g5', 'Ba6+,Kb8,Rxe7', 'https://lichess.org/training/QZuUO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Qzv0H', 'Rapid', 'kaloskaki', 2058, 'igorsm', 1991, 'e4,e6,f4,e5,d3,d6,Nf3,Bg4,Be2,h6,O-O,c5,Ne1,Be6,Nc3,f5,fxe5,fxe4,Nxe4,dxe5,Nf3,Nc6,Be3,b6,Ng3,Be7,Ne1,Nf6,Bh5+,Bf7,Bxf7+,Kxf7,Ne4,Rf8,Qh5+,Kg8,Nxf6+,Rxf6,Nf3,Qe8,Qg4,Rg6,Qc4+,Qf7', 'Qxf7+,Kxf7,Nxe5+', 'https://lichess.org/training/Qzv0H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qzw4Z', 'Blitz', 'IchSpieleMit_68717', 2052, 'wildanalfarizi', 2012, 'd4,e6,g3,d5,Bg2,c5,Nf3,Nc6,O-O,Nf6,c4,dxc4,Qa4,Bd7,dxc5,Bxc5,Qxc4,Bb6,Nc3,O-O,Bg5,h6,Rad1,hxg5,Nxg5,Qe7,Qh4,Nb4,Nce4,Nbd5,Rxd5,exd5', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/qzw4Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QZw56', 'Rapid', 'reyjohnny11', 1792, 'wjua64', 1803, 'e4,e6,d4,c5,d5,Qc7,c4,h6,Nc3,a6,Nf3,g5,e5,d6,Qe2,Bg7,exd6,Qxd6,Ne4,Qb6,Be3,Bf8,Ne5,Nd7,f4,Ngf6,Nxf6+,Nxf6,fxg5,hxg5,Bxg5,Nd7,O-O-O,Bg7,dxe6,Nxe5,Rd8+,Qxd8,Bxd8,Kxd8,exf7,Nxf7,Qd3+,Bd4,Be2,Ne5,Qe4,Be6,Qxb7,Rc8,Qb6+,Kd7,Qb7+,Rc7,Qxa6,Rb8,b3,Nc6,Rd1', 'Ra7,Qxa7+,Nxa7', 'https://lichess.org/training/QZw56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QzwtE', 'Rapid', 'M_BERKE', 1794, 'Gyisus', 1793, 'd4,d5,c4,dxc4,e4,e5,d5,Nf6,Bg5,Be7,Bxf6,Bxf6,Bxc4,O-O,Nf3,Bg4,O-O,Nd7,Nc3,Nc5,h3,Bh5,b4,Nd7,Qd3,a5,bxa5,Rxa5,Rab1,b6,Rb5,Ra3,Rb3,Nc5,Qc2,Nxb3,axb3,Bxf3,gxf3,Bh4,Nb5,Qg5+,Kh2,Ra5,Nxc7,Qf4+,Kg2,Rc8,d6,Rc5,b4,Rc6', 'Bxf7+,Qxf7,Qxc6', 'https://lichess.org/training/QzwtE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qZXOp', 'Rapid', 'aidynnur', 1613, 'faatihh', 1911, 'e4,e5,Nc3,Nf6,Nf3,Bb4,Bc4,O-O,Nd5,Nxd5,Bxd5,c6,Bb3,Re8,c3,Ba5,d4,exd4,O-O,d5,Qxd4,dxe4,Bxf7+,Kxf7,Ne5+,Kf8,Qc5+,Re7,Bg5,Nd7,Nxd7+,Bxd7,f3,e3', 'Bxe7+,Qxe7,Qxa5', 'https://lichess.org/training/qZXOp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QZXzu', 'Rapid', 'SihleBrazoNtuli', 1652, 'raumlich', 1603, 'Nf3,d5,d4,Bg4,c4,Bxf3,exf3,c6,Nc3,e6,a3,Nf6,Bg5,Nbd7,Bd3,h6,Bh4,Be7,O-O,Qb6,Bxf6,Bxf6,cxd5,cxd5,Bb5,Rd8,Bxd7+,Rxd7,Re1,O-O,Kh1,Bxd4', 'Na4,Qb5,Qxd4', 'https://lichess.org/training/QZXzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QZYat', 'Rapid', 'mahmoudkhalaf109', 2016, 'jardinho', 2048, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,d3,e6,e5,dxe5,Nxe5,Qc7,Re1,Bd6,Bf4,O-O,Bg3,Nbd7,f4,Qb6,b3,Rac8,Nc4,Qc7,Nxd6,Qxd6,Nd2,Nd5,f5,e5,Nc4,Qf6,Qg4,Rfe8,Bh4,Qc6,Na5,Qb5,c4,Qxa5,cxd5,Qb6,Kh1,Qd6,Rf1,Qxd5,f6,g6,Qg5,Kh8,Qh6,Rg8,Rf3,Rc6,Bg5,Qd4', 'Qxh7+,Kxh7,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/QZYat');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QZyri', 'Blitz', 'fabiancardozo', 1553, 'Pekiix', 1620, 'd4,d5,Nf3,e6,Bf4,Nc6,e3,Nf6,Bd3,Bb4+,c3,Bd6,Ne5,Nd7,Qh5,Bxe5,dxe5,g6,Qf3,Ncxe5,Bxe5,Nxe5,Qe2,Nxd3+,Qxd3,Bd7,Nd2,a6,Qd4,Rg8,O-O,Bc6,c4,dxc4,Qxc4,Qxd2,Rad1,Qxb2,Qh4,Qg7,Qf4,Rc8,e4,Rf8,e5,h5,Rd3,Bb5,Rb3,Bxf1,Kxf1,c6,Rxb7,Rd8', 'Qc1,Rh8,Qc5,Rd1+,Ke2,Qxe5+,Qxe5', 'https://lichess.org/training/QZyri');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('QzZDb', 'Blitz', 'mkelso', 2072, 'aathos', 2112, 'd4,Nf6,c3,g6,Bg5,Bg7,Qc2,h6,Bh4,c6,e4,d6,Bd3,e5,Ne2,O-O,O-O,Nbd7,Nd2,Qc7,f4,exf4,Bxf6,Nxf6,Nxf4,Ng4,Rf3,c5,Raf1,cxd4,Nxg6,Ne3,Nxf8,Nxc2,Bxc2,Bxf8,e5,dxe5,Ne4,Be6,Nf6+,Kg7', 'Rg3+,Bg4,Rxg4+,Kh8,Rg8#', 'https://lichess.org/training/QzZDb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('qZZEo', 'Blitz', 'Javizz09', 1556, 'chesschip', 1533, 'e4,c5,Nc3,Nc6,Nf3,e6,Bb5,Nge7,d3,g6,Bg5,Bg7,Qd2,O-O,Bh6,d5,exd5,exd5,O-O-O,d4,Ne4,Qb6,Bxg7,Kxg7,Bc4,Be6,Bxe6,fxe6,Neg5,e5,Ne6+,Kg8,Nxf8,Rxf8,Rhe1,Nb4,Kb1,Ned5,Nxe5,Nc3+,bxc3', 'Nxd3+,Ka1,Qb2#', 'https://lichess.org/training/qZZEo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R02jq', 'Rapid', 'glmchess', 1698, 'Dubolom228', 1720, 'e4,c5,Qf3,Nc6,c3,Nf6,d3,Ne5,Qg3,d6,Be2,Bg4,h4,Bxe2,Nxe2,Qc7,h5,O-O-O,f4,Nc6,d4,Nxe4,Qe3,Nf6,Bd2,cxd4,Nxd4,e5,Nxc6,Qxc6,f5,Qxg2,Qh3,Qe4+,Kd1,d5,Re1,Qg4+,Qxg4,Nxg4,Bg5,f6,Be3,d4,cxd4,exd4,Bg1,Bc5,Nd2,Bb4,a3,Ne3+,Kc1,Bxd2+,Kxd2,Nc4+,Kc1,Kb8,Re7,g5,b3,Ne3,Kd2,Nxf5,Rf7,Ng3', 'Bh2,Ka8,Bxg3', 'https://lichess.org/training/R02jq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R02Nj', 'Blitz', 'Brenlla2', 2168, 'eljuru', 2147, 'e4,d6,d4,Nf6,Bd3,e5,c3,Be7,Ne2,O-O,O-O,Re8,Ng3,g6,f4,Nc6,Kh1,exd4,f5,dxc3,bxc3,Ne5,Bc2,d5,Nd2,dxe4,Ngxe4,Nxe4,Bxe4,Bf6,Qb3,Kg7,Ba3,Ng4,Rad1,c6,fxg6,hxg6,Bf3,Ne3,Ne4,Nxd1,Rxd1,Qb6,Nxf6,Kxf6,Qc2,Bf5,Qc1,Qe3,Qa1,Kg7,Bb2,Rad8,Rf1,Rd2,c4+,Kg8,Bc1,Rxa2,Qxa2,Qd3,Rd1', 'Qxd1+,Bxd1,Re1#', 'https://lichess.org/training/R02Nj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R036r', 'Rapid', 'Zenga', 1917, 'mik53', 1917, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,Be3,Be7,O-O,O-O,Qe1,b5,a3,Bb7,Kh1,Bxe4,Nxe4,Nxe4,Bd3,d5,Rd1,Qc7,f4,Nd7,f5,e5,Bxe4,dxe4,Nb3,Qxc2', 'Rxd7,Qxb3,Rxe7', 'https://lichess.org/training/R036r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R06sZ', 'Blitz', 'charger64', 1762, 'Inaww_naww', 1837, 'e4,c5,Nf3,Nc6,g3,Nf6,d3,d6,Bg2,g6,O-O,Bg7,Bg5,Bg4,Nbd2,Nd4,h3,Bxf3,Nxf3,Nxf3+,Qxf3,O-O,Qe3,Qb6,b3,Rab8,Bh6,Nd7,Bxg7,Kxg7,f4,e6,g4,Kg8,Rf2,Rbe8,Raf1,d5,f5,d4,Qh6,exf5,gxf5,Kh8,f6,Rg8,Rf4,Re6', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/R06sZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r076D', 'Rapid', 'andgame1290', 1917, 'Narayan1981', 1938, 'e4,e5,Nf3,f6,Nxe5,Qe7,Qh5+,g6,Nxg6,Qxe4+,Be2,Qxg6,Qh3,h5,Nc3,Nc6,Nd5,Bd6,Bd3,Qg4,Qe3+,Nge7', 'Nxf6+,Kd8,Nxg4', 'https://lichess.org/training/r076D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0AwK', 'Rapid', 'Grebnow', 1910, 'Boera3689', 1923, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Qc2,e6,e3,dxc4,Bxc4,O-O,O-O,a6,a4,Nc6,Bd2,Rb8,Rad1,Na5,Ba2,b5,b4,Nc6,Ne4,Nxe4,Qxc6,Nxd2,Nxd2,Bb7,Qc2,Qd6,a5,Qxb4,Qxc7,Rfc8,Qf4,Qxa5,Bb1,Qc7,Qh4,b4,Be4,Bxe4,Qxe4,a5,Rc1,Qb7', 'Qxb7,Rxb7,Rxc8+', 'https://lichess.org/training/R0AwK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0Bar', 'Classical', 'adamsky', 1901, 'Azik77', 1943, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bg5,Qb4+,Nc3,h6,Bh4,Qxb2,Nd5,f6,Nxc7+,Kd8,Nxa8', 'Bb4+,Nd2,Bxd2+,Qxd2,Qxa1+', 'https://lichess.org/training/R0Bar');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r0dzu', 'Blitz', 'atakking', 2035, 'Peacefultom', 2073, 'e4,Nc6,Nf3,e5,Bc4,Nf6,O-O,Nxe4,d4,d5,Bb5,exd4,Nxd4,Bc5,Nxc6,bxc6,Bxc6+,Bd7,Qxd5,Bxf2+,Rxf2,Nxf2,Bxa8,O-O,Kxf2,Qh4+,Kf1,Re8,Bd2,Be6,Bg5,Qxh2,Qd4,Rxa8,Nc3,Qh1+,Qg1,Qh5,Be3,Bc4+,Ke1,Re8,Kd2,Rd8+,Kc1,a5,b3,Qe5,Kb2,a4,Rd1,Rb8,Bd4,a3+,Ka1,Qf5,bxc4,Qxc2,Nd5,Rb2,Nc3,c5,Rc1,Qd2,Be3,Qd8,Rd1,Qb8,Qf1', 'Rxa2+,Nxa2,Qb2#', 'https://lichess.org/training/r0dzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r0epQ', 'Rapid', 'Achilleas_Noutsos', 1868, 'MLGJ3ZU2', 1818, 'd4,d5,e3,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,b3,b6,Bd3,dxc4,bxc4,Bb7,Nf3,c5,a3,Bxc3,Bxc3,cxd4,exd4,Nc6,O-O,Rc8,Qc2,h6,Rad1,Qe7,Qb2,Rfd8,Rfe1,Qc7,h3,Ne7,Ne5,Nd7,Nxd7,Rxd7,f3,Ba6,d5,Bxc4,Bxc4,Qxc4,Bxg7,Nxd5,Bxh6,Qc5+,Kh1,Qc3,Qf2,Qf6,Qg3+,Kh8,Bg5,Qg6,Qh4+,Kg7,Qd4+,Kg8,Bh4,Rcd8,Bxd8,Rxd8,Qg4,Qxg4,hxg4,Kg7,f4,Rh8+,Kg1,Nxf4,Rf1,Ne2+,Kf2,Nc3,Rd7,Ne4+,Ke3,Ng5,Kf4,Kg6,Ke5,Rf8,Rf6+,Kg7,a4,Rc8,Rxa7', 'Rc5+,Kf4,Kxf6', 'https://lichess.org/training/r0epQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0FrW', 'Rapid', 'Treviastechno', 1842, 'VIKTORM1949', 1897, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Nbd7,e3,h6,Bf4,e6,h3,Be7,Nf3,Nb6,Qc2,dxc4,Be2,Nfd5,Bh2,O-O,Rd1,a5,O-O,a4,a3,f5,Ne5,Rf6,Nxc4,Nxc4,Bxc4,b5,Be2,Bd7,e4,fxe4,Nxe4,Rf8,Rfe1,Bh4,Bg4,Qe7,Bd6,Qf7,Bxf8,Rxf8,Rf1,h5,Bf3,Nf4,Rd2,Nxh3+,gxh3,Qxf3,Qd3,Qf5,Ng3,Qg5,Kh2', 'Bxg3+,fxg3,Rxf1', 'https://lichess.org/training/R0FrW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0FSY', 'Rapid', 'ayrion78100', 1760, 'thepablo', 1680, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,g6,Bc4,Bg7,O-O,O-O,Be3,c6,h3,b5,Bb3,Nbd7,Qd2,Nb6,Bh6,Nc4,Bxc4,bxc4,Bxg7,Kxg7,Ne5,Qb6,Nxc4,Qb4,b3,Be6,Ne5,Nd5,Nxc6', 'Qxc3,Qxc3,Nxc3', 'https://lichess.org/training/R0FSY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r0fV9', 'Rapid', 'eshaghi', 1877, 'iiAlex', 1876, 'e4,d5,exd5,Nf6,c4,c6,Nc3,cxd5,cxd5,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,e5,O-O,Bc5,Re1,Nc6,h3,Bh5,b3,O-O-O,Bb2,e4,Nh2,Bxe2,Qxe2,Qxd2,Qg4+,Kb8,Re2,h5,Qg3+,Bd6', 'Rxd2,Bxg3,Rxd8+,Rxd8,fxg3', 'https://lichess.org/training/r0fV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0GFf', 'Blitz', 'mahabORam', 1926, 'alik_a1', 1884, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bd3,Nxe4,Bxe4,Nd7,Bg5,Nf6,Bxf6,exf6,Nf3,Bd6,O-O,O-O,Re1,Qc7,h3,Bd7,c3,Rfe8,Qc2,g6,h4,Bg4,Nd2,Bh2+,Kh1,Bf4,f3,Bd7,h5,f5,Bd3,Rxe1+,Rxe1,Qd8,hxg6,Qh4+,Kg1,Qxe1+,Nf1,Be3+,Kh1,Qh4+,Nh2,hxg6,Qd1,Kg7,Qe2,Qxh2+,Kxh2', 'Rh8+,Kg3,f4#', 'https://lichess.org/training/R0GFf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0GsU', 'Rapid', 'ABGudi', 1902, 'Watch-OnePiece', 1910, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bg5,Be7,O-O-O,O-O,h4,Be6,f4,Bg4,Be2,h6,Bxf6,Bxf6,e5,dxe5,fxe5,Qxd4,Rxd4,Bxe2,exf6,Bh5,fxg7,Kxg7,g4,Bg6,g5,hxg5,hxg5,Rh8,Rhd1,Rh2,R4d2,Rh5,Nd5,c6,Ne7,Rxg5,Nxg6,Rxg6,Rd7,b6,Re1,Kf8,Ree7,Rf6,b3,Rf2,Kb2,c5,Re5,a6,Rh5,Kg8,Rdd5,Rc8', 'Rdg5+,Kf8,Rh8+,Ke7,Rxc8', 'https://lichess.org/training/R0GsU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0ihe', 'Rapid', 'faitpaslefouwesh', 1799, 'GajahMada24', 1756, 'd4,g6,c4,Bg7,Nf3,Nf6,g3,O-O,Bg2,e6,O-O,d5,cxd5,exd5,Nc3,Nc6,Bf4,a6,Ne5,Nxe5,dxe5,Nh5,Nxd5,Nxf4,gxf4,c6,Ne3,Be6,Qa4,Qh4,Qb4,Rab8,Bf3,Bh3,Ng2,Bxg2,Bxg2,Bh6,e3,g5,Qe7,Rbe8,Qf6,Bg7,Qxg5,Qxg5,fxg5,Bxe5,f4,Bxb2,Rab1,Bc3,Rxb7,Rxe3,Rb6,Bd4,Rxa6', 'Ra3+,Kh1,Rxa6', 'https://lichess.org/training/R0ihe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r0lAP', 'Blitz', 'Tournamentalist', 1794, 'ChristianRincon', 1843, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Nf6,e5,d5,exd6,Bxd6,O-O,O-O,Bd3,Bg4,c3,Ne5,cxd4,Nxf3+,gxf3,Bh3,Re1,Qd7,Bg5,Nd5,Nd2,h6,Bh4,Rae8,Ne4,Nf4,Bc2,Ng2,Qd3,Nxe1', 'Nf6+,gxf6,Qh7#', 'https://lichess.org/training/r0lAP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r0Pwc', 'Rapid', 'PabloDangelo', 2204, 'Marafonets', 2216, 'd4,Nf6,Bf4,d5,Nf3,c5,e3,Nc6,c3,e6,Nbd2,Bd6,Ne5,O-O,Bd3,Qc7,Ndf3,Nh5,Bxh7+,Kh8,Ng5,Nf6,Qf3,Nxe5,dxe5,Bxe5,Bc2,g6,Bg3,Kg7,O-O-O,Bd7,Qe2,Bxg3,fxg3,Qe5,Nf3,Qh5,Rhf1,Bc6,h3,Nd7,g4,Qh7,h4,f5,Ng5,Qg8,gxf5,gxf5,Qf2,Nf6,Qg3,Ng4,Rf4,Kh6,Rxg4,fxg4,Qxg4,Rf6,Rh1,Be8,Qg3,Bh5,Qc7,Qg7,Qxc5,Raf8,b3,Rf1+,Rxf1,Rxf1+,Kb2,Rf6,Qxa7,Bg6,Bxg6,Rxg6,Qd4,Qxd4,exd4,Kh5,g3,Kg4,Nf7,Kxg3,Nd6,Kxh4,Nxb7,Kg4,Nc5,Kf5,a4,Rg8,a5,Ra8,b4,e5,dxe5,Kxe5,Kb3,Kd6,Ka4,Kc6,Nd3,Re8', 'b5+,Kb7,Nc5+', 'https://lichess.org/training/r0Pwc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0rAy', 'Blitz', 'newbie7', 1794, 'Atal34', 1757, 'e4,d5,Nf3,dxe4,Ng5,Nc6,Nxe4,Bf5,Nbc3,Bxe4,Nxe4,f5,Qh5+,g6,Qf3,Ne5,Qf4,Bg7,Ng5,Qd5,d4,Nc6,Nf3,O-O-O,Bd3,Nxd4,Be3,Nxf3+,gxf3,Bxb2,Rb1,Bc3+,Kf1,e5,Qa4,b6,Ba6+,Kb8,Bc4,Qxf3,Rg1,Rd1+,Rxd1,Qxd1+,Kg2,Qg4+,Kf1,Qe4,Qe8+,Kb7,Qf7,Nh6,Bd5+,Ka6,Bc4+,Ka5,Qxc7,Ra8,Bd3,Qb4,Bxh6,e4,Bc4,Qb1+,Kg2,Qxc2,Bb3,Qd3,Qc6,Qf3+,Kf1,Qh3+,Rg2', 'Qd3+,Kg1,Qb1+,Bc1,Qxc1+,Bd1,Qxd1#', 'https://lichess.org/training/R0rAy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0rcc', 'Classical', 'Steelze', 1600, 'vineet1', 1624, 'e4,c6,Nc3,d5,e5,Bf5,d4,Nd7,Nf3,f6,Bd3,Bg4,Bf4,c5,Nxd5,cxd4,exf6', 'Qa5+,c3,Qxd5', 'https://lichess.org/training/R0rcc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r0tXt', 'Rapid', 'Michajow', 1620, 'Hawrang', 1608, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,d3,Nd4,Nxd4,exd4,Bg5,Be7,Qf3,d5,Bxf6,Bxf6,Bxd5,O-O,Bxa8,Be6,Bc6,Qd6,Bb7,Qe5,O-O,Rb8,Bxa6,Rb6,Bxb5,Rxb5,b3,c5,Nd2,Bd8,a4,Rb4,Qg3,Qh5,f4', 'Bh4,Qf3,Bg4', 'https://lichess.org/training/r0tXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0uUH', 'Blitz', 'aldino67', 2100, 'redtommy', 2099, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bd3,e6,c4,Ngf6,O-O,Bd6,Bg5,O-O,Qc2,Rc8,Rad1,Qa5,b3,Rfe8,Bd2,Qc7,Bc3,c5,Bxg6,hxg6,Ne4,Nxe4,Qxe4,cxd4', 'Qxd4,Nf6,Qxd6,Qxd6,Rxd6', 'https://lichess.org/training/R0uUH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r0Vfh', 'Rapid', 'Adamsonn', 2088, 'Pitsirdelis', 1995, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Nxe7,Nxe7,Bd3,d5,exd5,Nexd5,O-O,O-O,Re1,Re8,Be4,Bb7,Qf3,Qc7', 'Bxf6,Nxf6,Bxb7', 'https://lichess.org/training/r0Vfh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0VpE', 'Blitz', 'IM Tahaned2015', 2537, 'onthewaygm', 2556, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Bb4,cxd5,exd5,Bg5,h6,Bxf6,Qxf6,e3,c6,Bd3,O-O,O-O,Bg4,Qb3,Bxf3,Qxb4,Qg5,g3,b6,Rfe1,Qd8,Rac1,a5,Qb3,Nd7,Be2,Bxe2,Nxe2,a4,Qd3,c5,dxc5,Nxc5,Qd4,Qd7,Nf4,Rfd8,Red1,Ne6,Qxb6,Rab8,Qa5,Nxf4,exf4,Rxb2,Rc7,Qd6,Rd4,Rxa2,Rc5,Re8,Rcxd5,Qc6,Rd2,Re1+,Kg2,Rxd2,Qxd2,Rc1,Kh3,Rc2,Qd3,g6', 'Rd8+,Kg7,Qd4+,Qf6,Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/R0VpE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R0xdK', 'Blitz', 'Kingsman66', 1884, 'vladimirbershanskiy', 1876, 'e4,c5,e5,d6,f4,Nc6,Nf3,dxe5,fxe5,e6,Bb5,Ne7,O-O,a6,Bxc6+,Nxc6,d3,Be7,Nc3,O-O,Qe1,f6,Qg3,fxe5,Nxe5,Nxe5,Qxe5,Rxf1+,Kxf1,Bd6,Qe4,Bxh2,Qf3,e5,g3,Bh3+,Kf2,Qd4+,Be3,Qg4,Rh1,Qxf3+', 'Kxf3,Rf8+,Ke2,Bg4+,Kd2,Bxg3,Rg1,Rf3,Ne2', 'https://lichess.org/training/R0xdK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R1006', 'Blitz', 'softice4', 1753, 'Problemista', 1941, 'e4,d6,Bc4,Nf6,Bxf7+,Kxf7,f4,Bg4,Nf3,Bxf3,Qxf3,Kg8,O-O,c6,c4,Qb6+,Kh1,g6,e5,Nh5,Qg4,Ng7,d3,h5,Qe2,Nd7,Nc3,e6,b3,dxe5,fxe5,Nf5,g4,hxg4,Qxg4,Kg7,Rg1,Nxe5,Qg2,Qd4,Bb2,Bd6,Nd1,Rxh2+,Qxh2,Qxd3,Bxe5+,Bxe5,Qxe5+,Kf7,Qh2,Qf3+,Rg2,Qf1+,Rg1,Qf3+,Rg2,Qf1+,Qg1', 'Rh8+,Rh2,Ng3#', 'https://lichess.org/training/R1006');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R1196', 'Rapid', 'Jaksa2115', 1686, 'frageno', 1682, 'c4,e5,Nc3,Nf6,d4,exd4,Qxd4,Nc6,Qd1,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,Ne4,Rc1,d6,Nf3,Nxc3,Rxc3,Bg4,h3,Bh5,Qd5,Bxf3,Rxf3,Ne5,Rg3,c6,Qd4,Qf6,f4', 'Nf3+,Rxf3,Qxd4', 'https://lichess.org/training/R1196');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r14R7', 'Rapid', 'Ankl', 1850, 'Oleg-Zino', 1778, 'e4,c5,Nf3,d6,Bc4,Nc6,Nc3,a6,a3,Nf6,d3,e6,h3,Be7,Nh2,O-O,Ng4,b5,Ba2,Bd7,O-O,e5,Nxf6+,Bxf6,Nd5,Be6,f4,Ra7,f5,Bxd5,Bxd5,Ne7,Ba2,d5,Qg4,dxe4,dxe4,c4,b3', 'Qd4+,Be3,Qxe3+', 'https://lichess.org/training/r14R7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r16PG', 'Rapid', 'MLwenje', 1878, 'estrlink', 1884, 'e4,e5,d4,exd4,c3,Nf6,e5,Qe7,cxd4,d6,f4,Ne4,Nf3,dxe5,dxe5,Qb4+,Nbd2,Bc5,a3', 'Bf2+,Ke2,Qb5+', 'https://lichess.org/training/r16PG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R1abO', 'Rapid', 'turtle-turtle', 2485, 'IM Goodwilll', 2514, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,c6,e3,Nbd7,Nf3,Qa5,Bxf6,Nxf6,Bd3,Bb4,Qc2,O-O,O-O,Bd6,Ne2,h6,Ng3,Bd7,a3,c5,dxc5,Qxc5,b4,Qc7,cxd5,Qxc2,Bxc2,Nxd5,Bb3,Be7,Bxd5,exd5,Rfd1,Bf6,Rac1,Be6,Nd4,Rfc8,Nge2,Rc4,Rb1,Rac8,h3,a6,Rd3,Kf8,Rdb3,b5,Kf1,Be5,Ke1,g5,Kd2,Ke7,Ra1,Bd6,g4,Rh8,a4,Bxb4+', 'Rxb4,Rxb4,Nc6+,Kd6,Nxb4', 'https://lichess.org/training/R1abO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r1GDQ', 'Rapid', 'Congcodei', 1856, 'demuohca', 1923, 'd4,d5,c4,e6,Bf4,Nc6,e3,Nf6,h3,Ne4,a3,Qh4,Qc2,g5,Nf3,Qh6,Bxc7,g4,Ne5,Nxe5,Bxe5,g3,Bf4,gxf2+,Qxf2', 'Nxf2,Bxh6,Nxh1', 'https://lichess.org/training/r1GDQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R1K3H', 'Rapid', 'aliberkdarr', 1718, 'Jozback2020', 1623, 'Nf3,e6,g3,h6,Bg2,a6,d4,d5,O-O,Nc6,c4,h5,h4,Nf6,cxd5,exd5,Bg5,Be7,Nc3,Qd6,a3,Bf5,Bf4,Qe6,Ng5,Qd7,f3,Nh7,e4,dxe4,fxe4,Bg4,Qb3,Nxg5,Bxg5,Bxg5,hxg5,Qxd4+,Kh2,Be6', 'Qxb7,O-O,Qxc6', 'https://lichess.org/training/R1K3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R1RHJ', 'Rapid', 'amauryxiv', 2049, 'fatkhur86', 1945, 'd4,e6,c4,d5,Nc3,c5,cxd5,exd5,Nf3,Nc6,e3,Qb6,Bd3,Nf6,O-O,Bg4,dxc5,Bxc5,Be2,O-O,Nxd5,Nxd5,Qxd5,Rad8,Qg5,f5,h3,Bxf3,Bxf3,Ne5,Be2,Rd6,a3,Rg6,Qf4,Qc6,f3,Bd6,Qd4,Nf7,Bd2,Rd8,Qc3,Bc5,b4,Bb6,Qxc6,bxc6,Rad1', 'Rxd2,Rxd2,Bxe3+,Kh1,Bxd2', 'https://lichess.org/training/R1RHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R1sSf', 'Classical', 'SChandrachoor', 1647, 'DarTVeideR_69', 2136, 'Nf3,Nf6,b3,c5,Bb2,e6,e3,d5,d4,cxd4,exd4,Bd6,Nbd2,O-O,Be2,Nc6,O-O,Re8,Ne5,Nd7,Ndf3,f6,Nxd7,Bxd7,a3,Rc8,h3,Ne7,Rc1,Qa5,a4,Bb4,Bd3,Ng6,Bxg6,hxg6,Qd3,g5,Rfd1,Re7,Qe2,Be8,Qd3,Bh5,Rf1,Kf7,Qh7', 'Bg6,Qxg6+,Kxg6', 'https://lichess.org/training/R1sSf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r1t9H', 'Blitz', 'ruzekari', 1558, 'VainData07', 1574, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Nf6,Bxc6+,bxc6,O-O,Ba6,Re1,Bc8,d3,Bg4,h3,Bh5,Bg5,h6,Bxf6,Qxf6,g4,Bg6,h4,h5,g5,Qf4,Rc1,f6,gxf6,gxf6,Re3,Rg8,Kf1,Be7,Ne2,Qg4,Neg1,f5,exf5,Bxf5,Qe1,Bf6,Qe2,Qg2+,Ke1,Bg4,Rd1,d5,Kd2,d4,Re4,Bxh4,Rxe5+,Kd7,Nxh4,Bxe2,Nxg2,Bxd1,Kxd1,Rxg2,Nf3,Rxf2,Nxd4,Rg8,Ke1,Rh2,Nf3,Rh1+,Kf2,Rf8,Re3,h4,Kg2,Rc1,Ne5+,Kd6,Nc4+,Kc5,Re5+,Kb4', 'a3+,Ka4,b3#', 'https://lichess.org/training/r1t9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r1Tfw', 'Classical', 'gauvnepz2', 1851, 'byariv', 1745, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bg4,Bg5,e6,Rc1,Nbd7,e3,Be7,Bf4,O-O,cxd5,cxd5,Bd3,Nh5,Bg3,Nxg3,hxg3,h6,Bb1,Qb6,Qd3,Bf5,e4,Qxb2,O-O,dxe4,Nxe4,Rac8,Rcd1,Rc3', 'Qxc3,Qxc3,Nxc3', 'https://lichess.org/training/r1Tfw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R1uEq', 'Rapid', 'Shriguru', 1929, 's268a', 1919, 'd4,e6,e3,Nf6,Nf3,Bd6,Be2,Be7,O-O,c6,Bd3,d5,Re1,Ne4,Bxe4,dxe4,Nfd2,f5,c4,O-O,Qb3,b6,c5,bxc5,dxc5,Bxc5,Rd1,Qb6,Qc2,Na6,Nc4,Qc7,a3,Bd7,b4,Be7,Bb2,Rad8,Ne5,Bd6,Nxd7,Rxd7,g3,Be5', 'Rxd7,Qxd7,Bxe5', 'https://lichess.org/training/R1uEq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r1voS', 'Blitz', 'yuriprm', 1855, 'rmxz', 1827, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,d6,d3,O-O,Bg5,h6,Be3,Bb6,a4,a5,Bxb6,cxb6,Nbd2,Be6,Bxe6,fxe6,Qb3,d5,exd5,exd5,Rae1,Qd6,d4,e4,Nxe4,Nxe4,Rxe4,Kh8,Rg4,Rae8,Qxb6,Qd7,Rg6,Qf7,Rg3,h5,Nh4', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/r1voS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r1vYj', 'Rapid', 'hardik6363', 1767, 'JeanLoup14', 1694, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bc4,h6,O-O,O-O,Qf3,Re8,Re1,d5,Bxh6,gxh6,exd5,Bg4', 'Rxe8+,Nxe8,Qxg4+', 'https://lichess.org/training/r1vYj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R1yid', 'Rapid', 'Kostic2005', 1829, 'Janjan98', 1837, 'e4,e5,Nf3,d6,d4,Bg4,Be3,Bxf3,Qxf3,exd4,Bxd4,Nd7,Bc4,Qe7,Nc3,Ne5,Bxe5,dxe5,Nb5,Nf6,O-O-O,a6,Nc3,c6,a3,Qc5,Ba2,b5,Qf5,Be7,g4,O-O,g5,Ne8,h4,g6,Qf3,Ng7,Rd7,Rae8,Rhd1,b4,axb4,Qxb4,Ra7,a5,Rdd7,Nh5,Bb3,Nf4,Rdc7,c5,Rab7,Qd4,Rd7,Bd6,Nb5,Qb4,Nxd6', 'Qe1+,Qd1,Ne2+,Kb1,Qxd1+', 'https://lichess.org/training/R1yid');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r1yOY', 'Classical', 'heyfilho', 1689, 'EdoChess25', 1691, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nf6,Nc3,O-O,f3,Re8', 'Nxc6,bxc6,Bxc5', 'https://lichess.org/training/r1yOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R1Yre', 'Rapid', 'babarkhan', 1911, 'Butron', 1823, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d3,h6,Nf3,Nc6,Be2,Nd4,Nxd4,Qxd4,O-O,Bd6,Nc3,a6,Be3,Qe5,g3,h5,Bf3,O-O-O,Re1,Bg4,Bxg4+,hxg4,Bf4,Qh5,h4,gxh3,Qxh5,Rxh5,Bxd6,Rxd6,Kh2,Rxd3,Nd5,Ng4+,Kh1,Nxf2+,Kh2,Ng4+,Kh1,Rd2,Re8+,Kd7,Re7+,Kd6,Rxf7,h2,Nc3,Nf2+', 'Rxf2,Rxf2,Ne4+,Kc6,Nxf2', 'https://lichess.org/training/R1Yre');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r20U2', 'Rapid', 'junji', 1956, 'gorshkov2011', 1939, 'e4,c6,d3,d5,exd5,cxd5,d4,Nf6,Nf3,Bg4,Be2,Nc6,O-O,e6,c3,Bd6,Bg5,h6,Bh4,O-O,Nbd2,Bxf3,Bxf3,Be7,b4,a6,a4,Rc8,Nb3,b6,Qe1,Qd7,a5,b5,Bg3,Nb8,Rc1,Rc4,Be5,Rfc8,Qd2,R4c6,Rfe1,Qe8,Re3,Nbd7,Bf4,Bd6,Rd3,Bxb4', 'cxb4,Rxc1+,Nxc1', 'https://lichess.org/training/r20U2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R25Xe', 'Rapid', 'SILEMAH', 2057, 'Bikovic', 1912, 'd4,d5,Bf4,Nc6,e3,a6,Nc3,Nf6,h3,g6,Nf3,Ne4,Bd3,Nxc3,bxc3,f5,Rb1,b5,Ne5,Nxe5,Bxe5,Rg8,Kf1,Bg7,Kg1,c6,a3,e6,Rb3,Bxe5,dxe5,g5,Qh5+,Kd7', 'Qxh7+,Qe7,Qxg8', 'https://lichess.org/training/R25Xe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r26x8', 'Classical', 'fopaco', 2078, 'dedeplente9', 2048, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Bb5,Nxd4,Qxd4,a6,Be2,Qc7,O-O,Bc5,Qd1,d5,exd5,exd5,Bg5,Ne4,Nxd5,Qe5,Bf4,Qf5,Nc7+,Ke7,Nxa8,Qxf4,Qd5,Be6,Qxb7+,Kf6,Nc7', 'Bxf2+,Rxf2,Qxf2+,Kh1,Qxe2', 'https://lichess.org/training/r26x8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R27Pc', 'Classical', 'Owein', 1747, 'gawron92', 1770, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,a3,a6,Nc3,Nd4,Nxd4,exd4,Nd5,b5,Ba2,Bd6,Qf3,Bb7,Nxf6+,gxf6,Qg4,Qe7,O-O,O-O-O,c4,Rdg8,Qh3,Rh7,g3,h5,Qh4,Rg4,Qh3,Qe6,Qg2,h4,cxb5,Qe5,bxa6,Bxa6,f4,Qh5,Rf3,Rhg7,Kf2,Qc5,Bd2,Qh5,Rg1,Be7,Qf1,h3,Qc1,c5,b4,Kd8,bxc5,Bxc5,a4,Bd6,Qb2,Rg8,Qxd4', 'Bc5,Be3,Bxd4', 'https://lichess.org/training/R27Pc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r27vy', 'Rapid', 'MaxMMM', 2149, 'hajizadeh', 1756, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,Bc5,Nd6+,Bxd6,Qxd6,Nge7,Bc4,O-O,Na3,a6,O-O,h6,Be3,Kh8,Rad1,f5,Bxh6', 'Rf6,Bxg7+,Kxg7', 'https://lichess.org/training/r27vy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R29cF', 'Blitz', 'FM sebsep', 2439, 'Bundesjogi', 2406, 'Nf3,g6,g3,Bg7,Bg2,d6,O-O,Nc6,d4,e5,d5,Nce7,c4,f5,Nc3,Nf6,e4,fxe4,Ng5,O-O,Ncxe4,h6,Nxf6+,Rxf6,Ne4,Rf7,c5,Nf5,cxd6,cxd6,a4,a6,a5,Nd4,Be3,Bf5,g4,Bxe4,Bxe4,g5,h3,Rc7,Qa4,Qf6,Kg2,Rf8,Rac1,Rxc1,Rxc1,Ne2,Rc7,Nf4+,Kh2,Rf7,Qe8+,Bf8,Bh7+', 'Rxh7,Rxh7,Kxh7', 'https://lichess.org/training/R29cF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2AJD', 'Blitz', 'danetosic', 2151, 'LiToChoRo', 2050, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,c5,Nge2,Nc6,Qd2,cxd4,Nxd4,Bd7,Be2,Rc8,Rd1,Nxd4,Bxd4,Bc6,O-O,Nd7,Bxg7,Kxg7,b3,Qb6+,Qd4+,Qxd4+,Rxd4,Nc5,Rfd1,Ne6,R4d2,Rc7,Bf1,Rfc8,g3,Nc5,Re1,f6,Nd5,Bxd5,exd5,Kf8,Re3,Nd7,Bh3,Re8,f4,Nc5,Bg4,f5,Bf3,Kf7,Kf2,Nd7,h3,Nf6,g4,fxg4,hxg4,b6,g5,Nd7,Bg4,Nc5,Kf3,Kg7,Rde2,h6,Kg3,a5,Be6,Rh8,Bg4,Re8,Rh2,h5,Be6,Rf8,Rhe2,Nxe6,Rxe6,Kf7,f5,gxf5,Kf4,Re8,Kxf5,Kg7,Rxd6', 'Rf8+,Rf6,exf6', 'https://lichess.org/training/R2AJD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2aUP', 'Rapid', 'SARSnCoV', 1970, 'tstng', 1997, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Be2,e5,Bg5,h6,Bh4,g5,Bg3,exd4,Nxd4,Nc6,Nc2,Re8,f3,Nh5,Qd2,Nxg3,hxg3,Be6,Ne3,Nd4,O-O-O,c6,f4,Qa5,f5,Bd7,Kb1,b5,Ng4,Nxe2,Nxh6+,Bxh6,Rxh6,Nxc3+,bxc3,Qd8,Qxd6,bxc4,Rdh1,Rb8+,Kc2,Bxf5', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/R2aUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r2bcA', 'Blitz', 'SergSN1967', 1818, 'Pickalito12', 2105, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Bg5,Be7,Nf3,h6,Bh4,Bg4,Bg3,Bd6,c3,O-O,O-O,Bxg3,fxg3,Nbd7,Nbd2,c6,Rc1,Qc7,Nb1,Rae8,Nbd2,Ne4,Qc2,Ndf6,c4,Qd6,b3,Re7,Ne5,Rfe8,Nxg4,Nxg4,Nf3,Ngf6,Ne5,Rxe5,dxe5,Qxe5,Rce1,Qd4+,Kh1,Kf8,Re2,Re5,cxd5', 'Nxg3+,hxg3,Rh5#', 'https://lichess.org/training/r2bcA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2BUe', 'Rapid', 'Stevieboy', 1818, 'Dikiy384', 1832, 'd4,d5,c4,dxc4,Nf3,e6,e3,Nf6,Bxc4,Be7,O-O,O-O,b3,b6,Ba3,Bb7,Bxe7,Qxe7,Qe2,Rd8,Rd1,Nbd7,Nc3,c5,Rd2,Ne4,Nxe4,Bxe4,Rad1,Bxf3,Qxf3,cxd4,exd4,Nf6,d5,exd5,Bxd5,Nxd5,Rxd5,h6,h3,Rxd5,Qxd5,Rc8,Rd2,Rc1+,Kh2,Qc7+,g3,Qc3,Qa8+,Kh7,Qe4+,g6,Rd7,Qf6,Kg2,Kg7,Rxa7,Rd1,Qe3', 'Qc6+,Qf3,Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/R2BUe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2f4K', 'Blitz', 'eolmar', 1883, 'marrar', 1855, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,c5,Bb2,Nc6,Bb5,Bd7,O-O,cxd4,cxd4,O-O,Rb1,a6,Ba4,b5,Bb3,e6,d5,exd5,Bxg7,Kxg7,Bxd5,Rc8,Qd2,Qf6,Rbc1,Ne5,Nxe5,Qxe5,f4,Qb8,f5,Rxc1,f6+,Kg8,Rxc1,Qe5,Rf1,Qh5,Bb3,Bc8,Rd1,Bb7,Qd6,h6,Rf1,Bxe4,Rd1,Qe2', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/R2f4K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2GaO', 'Rapid', 'ahmedturk', 1654, 'Quidam81', 1674, 'e4,e5,Nf3,f5,d3,Bc5,Be2,Bxf2+,Kxf2,fxe4,dxe4,Nf6,Bg5', 'Nxe4+,Kg1,Nxg5', 'https://lichess.org/training/R2GaO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r2GLs', 'Rapid', 'NilsM', 1815, 'AlexandreH', 1875, 'e4,Nf6,e5,Nd5,d4,c5,c4,Nc7,d5,d6,Nf3,Bg4,Bf4,Nd7,exd6,exd6,Qe2+,Qe7,Bxd6', 'Qxe2+,Bxe2,Bxd6', 'https://lichess.org/training/r2GLs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r2h0t', 'Rapid', 'Quetzal-68', 1728, 'akai2', 1768, 'Nf3,c5,Nc3,d5,d4,Nc6,Bg5,h6,Bh4,Qb6,Na4,Qa5+,Nc3,e6,e3,Be7,Bg3,Nf6,h3,O-O,Be2,cxd4,exd4,Ne4,Qd3,Nxg3,fxg3,Bf6,O-O,Qb4,Rfb1,Bxd4+,Nxd4,Qxd4+,Kh2,Qxd3,cxd3,Nd4,Bd1,Bd7,a4,a6,b4,b6,a5,b5,Rb2,Rfc8,Ra3,Rc7,g4,Rac8,Ne2,Nc6,d4,Ne7,Rbb3,Ng6,g3,e5,Rc3,Rc4,Rxc4,dxc4,d5,Ne7,Nc3,e4,Kg2,f5,gxf5,Bxf5,g4,Bg6,Kf2,Bf7,d6,Nc6,Nxe4,Bd5,Nc5,Nxb4,d7,Rd8,Bf3,Nd3+,Nxd3,cxd3,Rxd3,Bxf3,Kxf3,b4,Ke4,b3,Ke5,b2,Rd1', 'Rxd7,Rxd7,b1=Q', 'https://lichess.org/training/r2h0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r2jFq', 'Rapid', 'ahmed654321', 1717, 'Dykes', 1645, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,h3,Qe7,d3,Be6,Bd5,Nxd5,exd5,Bf5,O-O,Nd7,Nb5,Nf6,c4,a6,Nc3,g5,Qb3,Rb8,d4,g4,Nh4,Bd7,Qd1,gxh3,dxe5,dxe5,Bf4,Bg4,Qd2,Ne4,Nxe4,Qxh4,Bxe5,Rg8,g3', 'h2+,Kg2,Qh3+,Kh1,Bf3#', 'https://lichess.org/training/r2jFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r2JS3', 'Rapid', 'Rainmen', 1643, 'akkadriss', 1646, 'e4,e5,Bc4,Nf6,Nf3,Be7,Nxe5,O-O,O-O,Bd6,Nxf7,Rxf7,Bxf7+,Kxf7,Re1,Nc6,Qf3,Be5,d3,d6,c3,Bg4,Qe3,Nh5,h3', 'Bf4,hxg4,Bxe3', 'https://lichess.org/training/r2JS3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2ju7', 'Classical', 'gabriele84', 1956, 'Viktor2020', 2167, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,Nf3,Be7,e3,O-O,Rc1,a6,cxd5,exd5,Bd3,c6,O-O,Re8,a4,Nf8,h3,Ne4,Nxe4', 'dxe4,Bxe4,Bxg5', 'https://lichess.org/training/R2ju7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2Kkw', 'Rapid', 'bifferspice', 1724, 'JanOrmel', 1674, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,Bf4,Nc6,c3,e5,Nxc6,bxc6,Bg5,Be7,h4,Be6,Nd2,Rb8,Nc4,h6,Bxf6,Bxf6,Qe2,d5,exd5,cxd5,Nxe5,Bxe5,Qxe5,O-O,g3,Re8,O-O,Bh3,Qf4,Bxf1,Rxf1,Rxb2,Qf5,Rxa2', 'Qh7+,Kf8,Qh8+,Ke7,Re1+,Kd7,Bf5+', 'https://lichess.org/training/R2Kkw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2ljl', 'Blitz', 'Ann-2018', 2027, 'dzaniplays15', 1871, 'e4,c5,a3,d6,b4,cxb4,Bc4,a6,axb4,b5,Bb3,e6,d4,Bb7,Qe2,Be7,Nc3,Nd7,Nf3,Qc7,Bd2,Ngf6,e5,dxe5,dxe5,Nxe5,Nxe5,Bxg2,Rg1,Bd5,Nxd5,Nxd5,Bxd5,exd5,Rxg7,O-O-O,Nxf7,Bf6,Qe6+,Rd7,Qxf6,Re8+,Kf1,Qc4+,Kg1,Ree7,Qxa6+,Kc7,Ne5,Rxg7+,Kh1,Qe4+,f3,Qxe5,Qa7+,Kd6,Ra6+,Ke7,Qc5+,Ke8,Ra8+,Rd8,Qc6+,Kf7,Rxd8', 'Qa1+,Be1,Qxe1#', 'https://lichess.org/training/R2ljl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r2Nfr', 'Blitz', 'IM AlexTriapishko', 2679, 'FM jgeg', 2575, 'Nf3,d5,g3,Nf6,Bg2,e6,c4,c5,O-O,Nc6,cxd5,Nxd5,d4,Be7,b3,O-O,Bb2,b6,dxc5,Bxc5,a3,Bb7,b4,Be7,Nbd2,Bf6,Qb3,Bxb2,Qxb2,Qf6,Qxf6,Nxf6,Rac1,Rac8,Nc4,Rfd8,Rfd1,Ne7,Rxd8+,Rxd8,Ne1,Bxg2,Kxg2,Rc8,Nd3,Ne4,f3,b5,fxe4,Rxc4,Rxc4,bxc4,Ne5,c3,Kf3,f6,Nd3,Nc6,Ke3,e5,Ne1,Nd4,Kd3,Kf7,Nc2,Nb5,a4,Nd6,b5,Ke6,Nb4,Kd7,Nd5,c2,Kxc2,Nxe4,a5,Kd6,Nb4,Nc5,Kc3,f5,Kc4,f4,a6,g5,Nc6,Nxa6,Nxa7,Nc7,b6,Na6,Nb5+,Kc6,Nc7,Nxc7,bxc7,Kxc7,Kd5,g4,Kxe5', 'f3,exf3,gxf3', 'https://lichess.org/training/r2Nfr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2pEO', 'Blitz', 'Ferdl51', 1548, 'Splendora', 1556, 'd4,d5,Nf3,Bf5,e3,Nf6,c4,e6,Nc3,Bb4,Qb3,Bxc3+,bxc3,Nbd7,Qxb7,O-O,Ba3,Re8,c5,e5,c6,Nb6,Nxe5,a5,Be2,Bc8,Qxa8,Nxa8,O-O,Nb6,Rab1,Ne4,Rfc1,Nd2,Rb2,Ndc4,Nxc4,dxc4,Bc5,Ba6,Rcb1,Qd5,Bxb6,cxb6,Rxb6,Bc8,Bf3,Qf5,R1b5,Qg6,Rxa5,Bh3,Raa6,h6,c7,f6,Rb8,Kh7,Rxe8', 'Qb1+,Bd1,Qxd1#', 'https://lichess.org/training/R2pEO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2qrW', 'Rapid', 'HicldeNinja', 1696, 'tomasz87golden', 1673, 'c4,Nf6,d4,e5,d5,Bb4+,Nc3,d6,Bg5,Nbd7,e4,h6,Bh4,g5,Bg3,Nxe4,Qc2,Ndf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/R2qrW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r2rU3', 'Rapid', 'Mytika', 1887, 'Ironiker2018', 1870, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bd3,Bxd3,cxd3,e6,Nc3,Ne7,Nge2,Nf5,Ng3,Nxd4,Be3,Nb5,Nxb5,cxb5,O-O,g6,Qb3,Qa5,a4,Qb4,Qxb4,Bxb4,axb5,Nd7,Bxa7,O-O,d4,b6,Ra6,Ba5,Rb1,Bb4,Bxb6', 'Rxa6,bxa6,Nxb6', 'https://lichess.org/training/r2rU3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2THB', 'Blitz', 'FM Godzillator', 2449, 'Zurus45', 2210, 'd4,e6,c4,Nf6,Nc3,d5,cxd5,exd5,Bg5,c6,Qc2,h6,Bxf6,Qxf6,Nxd5,Qd8,Qe4+,Be6,Nc3,Qb6,O-O-O,Na6,Nf3,O-O-O,e3,Nb4,a3,Na2+,Nxa2,Bxa2,Bd3,Bd6,Ne5,Rhe8,Qg4+,Be6,Bf5,Bxe5,Bxe6+,Rxe6,dxe5,Qc5+,Kb1,Rxd1+,Rxd1,Qxe5,Rd4,f5,Qd1,Re7,g3,Kc7,Ka1,Qe6,h4,Rd7,Qa4,a6,Qa5+,Kc8,Qc5,Rxd4,Qxd4,Qd7,Qe5,g5,hxg5,hxg5,Ka2,Qd5+,Qxd5,cxd5,Kb3,Kd7,Kc3,Kd6,Kd4,g4,b4,b6,a4,Ke6,a5', 'bxa5,bxa5,Kd6', 'https://lichess.org/training/R2THB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2vO8', 'Rapid', 'sorenakeshteh', 1866, 'xXDesert_HoboXx', 1861, 'e4,c5,c4,Nc6,Nc3,g6,Nf3,Bg7,Be2,Nf6,O-O,O-O,d3,d6,Bg5,h6,Bxf6,Bxf6,Nd5,Bg7,Rb1,Be6,Ne3,Nd4,Nxd4,Bxd4,Nc2,Bg7,Bg4,Bxg4,Qxg4,Qc8,Qe2,Rb8,a4,a6,Na3,Qd7,Qc2,Rfc8,b3,Bd4,Kh1,Qg4,f4,e5,f5,Be3,Rf3,Bf4,Rbf1,h5,g3,Bg5,fxg6,fxg6,Qf2,Be7,Qg2,Rf8,Rxf8+,Rxf8,Rxf8+,Bxf8,Qd2,Kh7,Nb1,Bh6,Qc2,Be3,Nc3,h4,Nd5', 'Qf3+,Qg2,Qd1+,Qf1,Qxf1#', 'https://lichess.org/training/R2vO8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r2WNY', 'Blitz', 'Sunique', 1785, 'dukova-galina', 1789, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bf4,Ne7,Qf3,O-O,Bd3,Ng6,Be3,Bxe3,Qxe3,d5,O-O,Re8,f3,Ne5,Nd2,Nxd3,cxd3,d4,Qf4,Ba6,Nc4,Bxc4,dxc4,c5,e5,Rb8,b3,Re6,Rad1,a5,Qe4,a4,Rd3,Rb4,Rb1,Reb6,f4,f6,e6,Qe7,f5,g5,g4,Kg7,Rh3,axb3,Rbxb3,Rxb3,Rxb3,Rxb3,axb3,Kf8,Qc6,Qd6,Qd7', 'Qxd7,exd7,Ke7,d8=B+,Kxd8', 'https://lichess.org/training/r2WNY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R2zFp', 'Rapid', 'Michalich', 1894, 'AlixM', 1989, 'e4,d6,d4,Nf6,Bd3,e5,d5,Be7,c4,O-O,Nc3,c6,f4,exf4,Bxf4,Bg4,Nf3,Nbd7,O-O,Ne5,Be2,Bxf3,Bxf3,Nxc4,Qc2,cxd5,exd5,Qb6+,Kh1,Ne3,Bxe3,Qxe3,Rae1,Qb6,Rxe7,Rfe8,Rfe1,Rxe7,Rxe7,Rc8,Qe2,g6,h3,a6,Ne4,Nxd5,Rxf7,Kxf7,Ng5+,Kf6,Bxd5,Kxg5', 'Qg4+,Kh6,Qxc8', 'https://lichess.org/training/R2zFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R33aE', 'Rapid', 'med9tetra', 2364, 'Syrikat', 1905, 'd4,d5,Nf3,Nc6,Bf4,Bg4,Nbd2,e6,e3,Bd6,Bb5,Bxf4,exf4,Nf6,O-O,O-O,c3,Ne4,Qc2,Nxd2,Nxd2,Bf5,Qd1,Ne7,h3,h6,Nf3,Ng6,Qd2,Be4,Ne5,Nxe5,fxe5,c6,Bd3,Bxd3,Qxd3,Qg5,f4,Qg6,f5,exf5,Rxf5,Rfe8,Raf1,Re7,Qf3,b6,g4,Rf8,h4,f6,h5,Qe8,exf6,Rxf6,Rxf6,gxf6,Qxf6,Rh7,Qf4,Rg7,Rf2,Qxh5', 'Qf8+,Kh7,Qxg7+,Kxg7,gxh5', 'https://lichess.org/training/R33aE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R35oi', 'Blitz', 'maestro612', 1601, 'DEN19', 1639, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,Re1,O-O,c3,h6,d4,exd4,cxd4,Bg4,e5,dxe5,Rxe5,Bd6,Re3,Bf4,Rc3,Bxc1,Rxc1,Bxf3,Qxf3,Qxd4,Bb3,Qxb2,Nc3,Qd2,Qxb7,Nbd7,Qxc7,Rac8,Bxf7+,Kxf7,Qa5,Rxc3,Rxc3,Rc8,Rac1', 'Qxc1+,Rxc1,Rxc1+,Qe1,Rxe1#', 'https://lichess.org/training/R35oi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3dIm', 'Rapid', 'blady', 2123, 'timoffei09', 1778, 'c4,c5,Nc3,d6,g3,Nc6,Bg2,Bd7,Nf3,e6,O-O,Be7,d4,cxd4,Nxd4,Rc8,b3,Nf6,Bb2,O-O,e3,e5,Nf3,Ng4,Nd5,e4,Nd2,f5,Nxe7+,Nxe7,Nb1,Bc6,Qd4,Rf7,Nc3,a6,Ne2,Ng6,Rad1,Rd7,Nc3,Qe7,Nd5,Qg5,Nb6,Rcc7,Nxd7,Rxd7,h3,N4e5,Qc3,Nd3,Rd2,Nge5,Rdd1,h5,h4,Qg4,Qc2,Nf3+,Kh1,Nxh4,gxh4,Qxh4+,Kg1,Qg4,Rxd3,exd3,f3,Bxf3,Qf2,Be2,Bc3,Bxf1,Qxf1,h4,Kh2,Qg3+,Kh1,Qxe3,Bd5+,Kh8,Qd1,Re7', 'Qh5+,Qh6,Qxh6#', 'https://lichess.org/training/R3dIm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r3DqQ', 'Rapid', 'Marshall7593', 1934, 'Notorious-DTJ', 1903, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bf4,a6,Rc1,Bb4,Bc4,Qb6,Be3,Bc5,Bxc5,Qxc5,Bb3,Qb6,Na4,Qb4+,Rc3,Qxe4+,Qe2,Qxe2+,Kxe2,Nge7,Nb6,Rb8,Rd1,d5,Ng5,O-O,Rh3,h6,Bc2,Nf5,Nf3,Nb4,Bxf5,exf5,Nxd5,Nxd5,Rxd5,Be6,Ra5,Rfe8,Kf1,Bc4+,Kg1,Rbd8,g3,Rd1+,Kg2,Bd5,Rh4,g5,Rxh6,Kg7,Rb6,g4,Rxd5,Rxd5,Nh4,Rb5,Rd6,Rxb2,Nxf5+,Kf8,Rh6,Kg8,Nd6,Ree2,Rf6,Rb6,a4,Re6,Rxe6,fxe6,Ne4,Kf7,h3,gxh3+,Kxh3,Rb4,Nc5,Ke7,a5,Kd6,Nd3,Ra4,Nb2,Rxa5', 'Nc4+,Kd5,Nxa5,b6,Nb3', 'https://lichess.org/training/r3DqQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r3Ec1', 'Rapid', 'NeamHaque', 1891, 'duka-bg', 1935, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,g6,Bc4,Bg7,Nf3,Nf6,Bxf7+,Kxf7,Ng5+,Ke8,Nc3,Nc6,O-O,Ke7,Re1,Re8,Bf4,Kf8,Nd5,Kg8,Nxf6+,Bxf6', 'Qd5+,Be6,Nxe6,Rxe6,Qxe6+', 'https://lichess.org/training/r3Ec1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3EJK', 'Blitz', 'GM Lunaticxxx', 2793, 'GM IVK88', 2836, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d6,a3,Bxc3+,Qxc3,b6,Bg5,Bb7,e3,Nbd7,Qc2,h6,Bh4,Qe7,Ne2,g5,Bg3,h5,h4,g4,Nc3,e5,d5,a5,b3,Nc5,Be2,Bc8,O-O,Bd7,b4,Na6,c5,bxc5,Bxa6,Rxa6,bxc5,O-O,c6,Bc8,Rab1,Ra8,Rb2,Ne8,Ne4,Bf5,f3,Bxe4,fxe4,Ng7,Qd3,Kh7,a4,Kg6,Be1,f6,Rb7,Rf7,Qb5,Qd8,Bxa5,Kh6,Bd2,f5,exf5,Qxh4,e4+', 'Kh7,Re1,g3', 'https://lichess.org/training/R3EJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3gWO', 'Rapid', 'Noves', 1700, 'tert0', 1708, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Nxc3,dxc3,Qxd1+,Kxd1,c6,Kc2,Bf5+,e4,Bg6,h4,h6,Nf3,Bxe4+,Kb3,Na6,Be3,O-O-O,Bh3+,Kb8,Nxe5,Bxh1,Rxh1,Nc5+,Bxc5,Bxc5,Nxf7,Bxf2,Nxh8,Rxh8,a4,Bxg3,Rg1,Bxh4,Rxg7,Rd8,Kb4,Rd5,c4,Rd3,Bf5,Rd4,Rg8+,Kc7,Rc8+,Kb6', 'a5+,Ka6,Rxc6+,bxc6,Bc8#', 'https://lichess.org/training/R3gWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3HVE', 'Blitz', 'CM chesslh', 2143, 'hajisalimii', 2039, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,a6,Bxc6,dxc6,Nxe5,Bd6,Nf3,Bg4,e5,Bxe5,Re1,f6,d4,Bxf3,Qxf3,Qxd4,Nc3,Ne7,Be3,Qh4,g3,Qb4,Bf4,Bxf4,Qxf4,Qxf4,gxf4,Kf7,Ne4,Rad8,Nc5,b6,Nxa6,Rd7,Nb4,Rhd8,Nd3,c5,b3,Rd4,a4,c4,bxc4,Rxc4,a5,bxa5,Rxa5,Rxc2,Rc5,Rxc5,Nxc5,Rd5,Ne6,c5,Kg2,c4,Nc7,Rc5,Na6,Rc6,Nb4,Rb6,Nc2,c3,Kf3,Rb2,Nd4,Rb4', 'Rxe7+,Kxe7,Nc6+,Kf7,Nxb4', 'https://lichess.org/training/R3HVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r3I4D', 'Rapid', 'Tommygidh', 1749, 'Schneider89', 1645, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,Bxc3+,bxc3,O-O,e4,d6,Bd3,h6,Bh4,e5,Nf3,Nc6,Nd2,Bg4,Be2,Bxe2,Qxe2,Na5,f4,Re8,O-O,c6,fxe5,dxe5,Bxf6,gxf6,Qg4+,Kf8,Qh5,exd4,Qxh6+,Ke7,Qxf6+,Kd7,Qxf7+,Kc8,Qf5+,Kb8,cxd4,Qxd4+,Rf2,Nxc4,Nxc4', 'Qxa1+,Rf1,Qd4+', 'https://lichess.org/training/r3I4D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r3icB', 'Rapid', 'jcuello', 2119, 'fikriasmal', 1775, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,d3,a6,Ba4,b5,Bb3,Be7,c3,Nf6,Re1,O-O,Nbd2,Be6,Bc2,b4,Nf1,Bg4,h3,Bh5,Ng3,Bxf3,Qxf3,bxc3,bxc3,Qd7,Nf5,Nd8,Bh6,Ne6,Bxg7,Nxg7,Qg3,Nh5,Qg4,Bf6', 'Nh6+,Kh8,Qxd7', 'https://lichess.org/training/r3icB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3Iup', 'Rapid', 'gouloum', 1607, 'jcibal', 1619, 'Nf3,Nc6,c4,e5,d4,Bb4+,Nc3,e4,Ne5,Nxe5,dxe5,Ne7,Bg5,d6,e6,Bxe6', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/R3Iup');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r3kf4', 'Bullet', 'Khayami', 1643, 'Mantv1s', 1620, 'e4,c5,Bc4,Nc6,c3,e6,d3,Qc7,Bb3,Nf6,f4,b5,Bc2,Bb7,Be3,Be7,g4,d6,g5,Nd7,Nd2,h6,Qh5,O-O-O,g6,fxg6,Qxg6,Bf6,Ngf3,Rdf8,O-O-O,a5,Rhf1,b4,c4,a4,Bxa4,Qa5,b3,Ne7,Qg3,Nb6,e5,dxe5,fxe5,Bg5,Nxg5,Rxf1,Rxf1,hxg5,Qxg5,Nf5,Rxf5,exf5,Qxf5+,Kb8,Bf4,Ka7,Bb5,Qxa2,Kd1,Qa1+,Ke2,Qd4,Ne4,Qb2+,Ke3,Qxb3,e6,Re8,Nxc5,Qd1,Bxe8,Qf3+,Kd2,Qg2+,Kc1,Na4,Nxb7', 'Qb2+,Kd1,Nc3+,Ke1,Qe2#', 'https://lichess.org/training/r3kf4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3kfp', 'Blitz', 'CM ReinaldoR', 2420, 'ZpiggyJoho', 2318, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,c3,O-O,d4,Ba7,d5,Nb8,d6,Nxe4,dxc7,Qxc7,Qd5,Nc5,Bc2,d6,Rd1,Rd8,Nxe5,Be6,Qd2,Nc6,Nf3,Ne5,Nd4,Bg4,f3,Bh5,Kh1,Bg6,Bxg6,hxg6,Na3,b5,Nac2,d5,Ne3,Nc4,Qf2,Rd6,b3,Ne5,Ba3,Ncd3,Qf1,Qxc3,Bxd6,Bxd4,Bxe5,Nxe5,Nxd5,Qc5,Rxd4,Qxd4,Rd1,Qh4,f4', 'Ng4,h3,Nf2+,Kh2,Nxd1', 'https://lichess.org/training/R3kfp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3kKo', 'Rapid', 'minethlos', 1808, 'husseinalsarhan', 1754, 'e4,Nc6,Bc4,g6,c3,Bg7,d4,e6,Nf3,Nf6,Nbd2,d5,e5,dxc4,exf6,Bxf6,Nxc4,O-O,O-O,b5,Na3,Ba6,Re1,Re8,Bf4,b4,Nc2,bxc3,bxc3,Ne7,Be5,Nd5,Bxf6,Qxf6,Qd2,Rab8,Nb4,Nxb4,cxb4,Bb5,a4,Bc6,Ne5,Bd5,Nd7,Qd8,Nxb8,Qxb8,b5,Qb6,Rec1,Qb7,f3,c6,bxc6,Bxc6,Rc3,Bd5,Rac1,Qb4,Qd1,h5,Rc7,h4,Rxa7,Qb6,Rcc7,Rf8,Qd3,e5,Kf1,h3,gxh3,Qe6,Kg2,exd4,Re7,Qf6,Red7,Qg5+,Kf2,Qh4+,Ke2', 'Re8+,Re7,Rxe7+,Rxe7,Qxe7+', 'https://lichess.org/training/R3kKo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3mkO', 'Classical', 'Turkish_master', 1785, 'Abdelrhmanessam', 1786, 'e4,d5,f3,e5,Bd3,Nf6,Ne2,Bc5,Nbc3,Nc6,Na4,Bb6,Nxb6,axb6,O-O,dxe4,fxe4,Nd4,Nxd4,Qxd4+,Kh1,Nxe4,Bxe4,Qxe4,d3,Qc6,Qh5,O-O,Qg5,Be6,Qxe5,Qxc2,Qg3,Rad8,Bh6,Qxb2,Rab1,Qd4,Rf4,Qe5,Re1,Qb2,d4,g6,Bxf8,Kxf8,h3,Bxa2,Qh4,Re8', 'Qh6+,Kg8,Rxe8#', 'https://lichess.org/training/R3mkO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r3MYj', 'Rapid', 'burgundus', 1625, 'TheBij', 1664, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bb4,Bxc6,dxc6,O-O,Bg4,h3,Bh5,Qe1,Bxf3,gxf3,O-O,Kh1,Nh5,Rg1,Nf4,Kh2,Qh4,Rg3,Bd6,d3,f5,Bxf4,exf4,Rg2,Rf6,Qg1', 'Qxh3+,Kxh3,Rh6#', 'https://lichess.org/training/r3MYj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3Nal', 'Rapid', 'wintersws', 1823, 'rufli015', 1781, 'd4,d5,c4,e6,Nc3,Bb4,cxd5,exd5,e3,Nf6,Nf3,Bf5,Bd3,Bg4,h3,Bh5,O-O,Nbd7,Be2,O-O,a3,Bd6,b4,c6,Bb2,Qc7,Rc1,Rae8,Nb5,Qb8,Nxd6,Qxd6,Nd2,Bxe2,Qxe2,Ne4,Nxe4,dxe4,Qc2,f5,Qc3,Rf6,Rfd1,Nb6,a4,Nxa4', 'Qb3+,Qd5,Qxa4', 'https://lichess.org/training/R3Nal');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r3oCU', 'Classical', 'chansz', 1635, 'mikhailtalmagical', 1795, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,d6,Bb5,a6,Bxc6+,bxc6,e5,d5,Nf3,e6,Nd4,Bb7,c3,c5,Qb3,Qd7,Nf3,c4,Qc2,Bc5,O-O,Ne7,b4,Bb6,Be3,Nc8,Nbd2,O-O,h3,f6,exf6,Rxf6,Bxb6,Nxb6,Ng5,g6,Rfe1,Raf8,Nxe6', 'Rxe6,Rxe6,Qxe6', 'https://lichess.org/training/r3oCU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r3OuS', 'Classical', 'Explorateur', 1916, 'houssamsimo', 1942, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,b4,Bb6,a4,a6,O-O,d6,Nbd2,Be6,Bxe6,fxe6,Qb3,Qd7,Ba3,Rfe8,Nc4,Ba7,b5,axb5,axb5,Ne7,b6,Bxb6,Nxb6,cxb6,Qxb6,Ra6,Qb3,Rea8,Rfb1,Ng6,Ng5,d5,exd5,exd5,g3,h6,Ne4,Nxe4,dxe4,Kh7,exd5,Qg4,Bb2,Nf4,Rxa6,Rxa6,Qc2+,Rg6,Re1,Qf3,Qe4', 'Nh3+,Kf1,Qxf2#', 'https://lichess.org/training/r3OuS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3Oxi', 'Blitz', 'euler88', 1908, 'kessiyena', 1925, 'c4,e5,Nc3,Bc5,e3,Nf6,Nf3,e4,Ne5,d6,Nxf7,Kxf7,d4,exd3,Bxd3,Re8,O-O,Kg8,Nd5,Nxd5,cxd5,a6,a3,Rf8,b4,Ba7,Bb2,Nd7,Qc2,h6,Bh7+,Kh8,Bxg7+,Kxg7,Qg6+,Kh8,Qxh6,Qf6', 'Bg6+,Kg8,Qh7#', 'https://lichess.org/training/R3Oxi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r3sXM', 'Rapid', 'coloradogambit', 1952, 'Piranha27', 1967, 'e4,d5,d4,dxe4,Nc3,Nf6,Bg5,Bg4,f3,exf3,Nxf3,Nbd7,Bc4,e6,O-O,Be7,Qe1,O-O,Qh4,Nb6,Bd3,h6', 'Bxf6,Bxf6,Qxg4', 'https://lichess.org/training/r3sXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3Tgg', 'Blitz', 'lloydbenko', 2155, 'Anuradha66666', 2164, 'e4,e5,Nf3,d6,Bc4,Be7,a4,Nf6,Nc3,Nc6,d3,Bg4,h3,Bxf3,gxf3,O-O,f4,a6,O-O,Qd7,Kh2,Nd4,Be3,Kh8,Rg1,g6,fxe5,dxe5,Bh6,b5,Ba2,Rfb8,Bxf7,Bf8,Bxf8,Rxf8,Bd5,Nh5,Qg4,Rxf2+,Kh1,Qxg4,hxg4,Nf3,Rg2', 'Ng3+,Rxg3,Rh2#', 'https://lichess.org/training/R3Tgg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3usO', 'Rapid', 'Blatarov', 1963, 'andirin', 1982, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,cxb2,Bxb2,e6,Nd2,Bb4', 'Bxg7,Nf6,Bxh8', 'https://lichess.org/training/R3usO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r3UzT', 'Rapid', 'MEHEDI1716', 1856, 'ugotallnamespricks', 1847, 'c4,e5,Nc3,Bc5,b3,d6,Bb2,Nc6,g3,f5,Bg2,Bd7,e3,Nf6,Nge2,Qe7,O-O,e4,a3,a6,b4,Ba7,d3,Rg8,dxe4,fxe4,Nd5,Nxd5,Qxd5,O-O-O,Bxe4,Be6,Qd3,Ne5,Bxe5,dxe5,Qc3,Bh3,Bg2,Bxg2,Kxg2,g5,c5,h5,Rad1,Rxd1,Rxd1,Qf6,Qc4,Rf8,Rf1,g4,Qe4', 'Qf3+,Qxf3,gxf3+,Kg1,fxe2', 'https://lichess.org/training/r3UzT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3vZf', 'Rapid', 'Monahos2', 1752, 'mahmoud_lbx2000', 1782, 'b4,e5,Bb2,Bxb4,Bxe5,Nf6,c4,O-O,e3,Ne4,Nf3,d6,Bb2,Nc6,Be2,Bg4,O-O,Bxf3,Bxf3,Ng5,Bd5,Ne5,d4,Ng6,Bxb7,Rb8,Bf3,Qf6,Be2,Nh4,f4,Ne4,Bd3,Qg6,Rf2', 'Nxf2,Bxg6,Nxd1', 'https://lichess.org/training/R3vZf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r3xRb', 'Rapid', 'dadaseth', 1617, 'Deeno2019', 1617, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,g6,Be2,Bg7,O-O,O-O,Bg5,d6,d4,h6,Bxf6,Qxf6,d5,Ne7,Nbd2,Re8,Qa4,Bg4,Qc4,Rac8,Qb5,b6,Qa6,Ra8,Bd3,Qf4,Bc4,Bxf3,Nxf3,Qxe4,Rfe1,Qf5,Bd3,Qc8,Qc4,f5,Bc2,Qb7,Nh4,Qxd5,Qxd5+,Nxd5,Nxg6,e4,Nh4,Ne7,Re3,Bf6,g3,Bxh4,gxh4,Kf7,Bb3+,d5,c4,c6,cxd5,cxd5,Rd1,Rg8+,Rg3,Rad8,Kg2,Ke6,Kf1,f4,Rg1,Nf5', 'Rxg8,Rxg8,Bxd5+,Kf6,Bxg8', 'https://lichess.org/training/r3xRb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R3Yl6', 'Blitz', 'Tietie007', 1896, 'healthypawnup', 1778, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,Nbd2,a6,a4,Ba7,Nf1,Be6,Bxe6,fxe6,Be3,Bxe3,Nxe3,O-O,Qb3,Qc8,O-O,Nh5,d4,Rxf3,gxf3,exd4,cxd4,Nxd4,Qd1,e5,Nf5,Nxf5,exf5,Qxf5,Qd5+,Kh8,Qe4,Rf8,Qxf5,Rxf5,Rac1,c6,Rc3,Nf4,Kh1,d5,a5,Ne2,Rb3,Rf7,Re1,Nd4,Rb6,Nxf3,Re3,e4,Kg2,Rf6,Rxb7,Rg6+,Kf1', 'Rg1+,Ke2,Re1#', 'https://lichess.org/training/R3Yl6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R40ns', 'Blitz', 'Ala_2021', 1564, 'IbexAlex', 1659, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,d3,g6,a3,Bg7,Ne2,Nh6,O-O,f6,f4,Nf7,Ng3,e5,Nc3,O-O,Nxd5,Be6,c4,Bxd5,cxd5,Nd4,Ba2,Qb6,Kh1,Rad8,Be3,exf4,Rxf4,f5,Qa4,Qxb2', 'Bxd4,Bxd4,Qxd4,Qxd4,Rxd4', 'https://lichess.org/training/R40ns');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r46Xr', 'Blitz', 'DariPalma', 1999, 'Lucsnz', 2018, 'e4,e5,f4,d5,exd5,Qxd5,fxe5,Qxe5+,Be2,Be7,Nf3,Qc5,d4,Qb6,Nc3,Bg4,Nd5,Qa5+,Nc3,Nd7,Bd2,O-O-O,b4,Bxb4,Ne4,Bxd2+,Nexd2,Ngf6,O-O,Rhe8,Rb1,Nd5,c4,Nc3,Qb3,Nxe2+,Kh1,b6,c5,Nf6,Nc4,Qa6,a4,Bxf3,gxf3,Nxd4,Qb4,Qb7,Na5,Qa8,cxb6,axb6,Nc4,Nxf3,Rfc1,Nd2+,Kg1,Nf3+,Kf2,Ng4+,Kg3,Qe4,Nxb6+,Kb7,Nd5+,Qxb4,Rxb4+,Ka6,Nxc7+,Ka5', 'Rb5+,Kxa4,Ra1#', 'https://lichess.org/training/r46Xr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r47Yv', 'Blitz', 'jack12346', 1642, 'ppplatypus', 1741, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Be2,Be7,O-O,O-O,d4,exd4,Nxd4,Bc5,Nxc6,dxc6,Bg5,Qe7,Bd3,Qe5,Bh4,Nh5,Kh1,Nf6,Bg3,Qe7,e5,Nd5,Qh5,h6,Ne4,Be6,a3,Bd4,c4,Nb6,Nf6+,Kh8,Bf4,Nd7,Bxh6,Nxf6,Bxg7+,Kxg7,Qg5+,Kh8,Qh6+,Kg8,Qg5+,Kh8,Qh4+,Kg7', 'exf6+,Qxf6,Qh7#', 'https://lichess.org/training/r47Yv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r48Ei', 'Rapid', 'aunglatt', 2021, 'danrad', 1929, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,Be7,e3,O-O,Bd3,b6,Bd2,Ba6,Rc1,d5,b3,Nc6,a3,Ng4,h3,Nxf2,Kxf2,f4,e4,Bh4+,Kf1,dxc4,bxc4,Nxd4,Ne2', 'Nxf3,gxf3,Qxd3', 'https://lichess.org/training/r48Ei');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4A2I', 'Rapid', 'krzysiekstasilas', 1633, 'minisimun', 1714, 'e4,g6,d4,Bg7,Nc3,d6,f4,Nf6,e5,dxe5,fxe5,Nd5,Nxd5,Qxd5,Nf3,O-O,Bd3,Nc6,c3,Bg4,O-O,Rad8,Qb3,Bxf3,Rxf3,Qxb3,axb3,a6,Be4,f6,e6,Rd6,Bxc6,Rxc6,d5,Rd6,c4,g5,Rf5,c6,Be3,Rc8,Bc5,cxd5,Bxd6,exd6,Rxd5,Bf8,Re1,Be7,Re4,Kg7,h4,Kg6,hxg5,fxg5,g4,Rf8,Kg2,h5,gxh5+,Kxh5,Re1,Rf4,Rh1+,Kg6,Rh8,Re4,Rb8,Rxe6,Rxb7,Kh5,Rf5,Kg4,Rf7,Bf6,Rb6,Re2+,Kf1,Re6,Rxa6,Bxb2,Rd7,Rf6+,Kg2,Bd4,Ra2,Bc5,Rd8,Re6,Rb2,Re1,b4,Bd4,Rc2,Rg1+,Kh2,Rb1,Rxd6', 'Be5+,Kg2,Bxd6', 'https://lichess.org/training/r4A2I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R4BTh', 'Blitz', 'gArmour28', 1543, 'WhiteUnicorn', 1711, 'Nf3,d5,c4,dxc4,e3,b5,a4,c6,axb5,cxb5,Nc3,a6,Nxb5,Bb7,Nc3,Nf6,Bxc4,e6,O-O,Bd6,b3,Nc6,Ba3,Nb4,Bxb4,Bxb4,Na4,Bxf3,gxf3,Qxd2,Qxd2,Bxd2,Rfd1,Bb4,Nb6,Rb8,Rxa6,O-O,e4,Bc5,Na4,Bb4,e5,Nh5,Nb6,Nf4,Nd7,Rfd8,Ra7,Rbc8,Ba6,Rc6,Nf6+,gxf6,exf6,Kf8,Rdd7,Rxd7', 'Ra8+,Rc8,Rxc8+,Rd8,Rxd8#', 'https://lichess.org/training/R4BTh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4cFO', 'Rapid', 'merdlmen', 1967, 'Magbus', 1960, 'e4,g6,Nc3,Bg7,d4,d6,Be3,Nf6,Qd2,O-O,Bh6,Nh5,Bxg7,Nxg7,h3,f5,g4,fxg4,hxg4,Bxg4,Qg5,Bh5,Be2,Bxe2,Ngxe2,e5,Qh6,Nh5,Ng3,Rf7,Nxh5,gxh5,O-O,exd4,Nd5,c6,Nf4,Rg7+', 'Qxg7+,Kxg7,Ne6+,Kf6,Nxd8', 'https://lichess.org/training/r4cFO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R4iOQ', 'Blitz', 'genique', 1667, 'vstolbik63', 1663, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,O-O,Nf6,Re1,h6,c3,g5,d4,g4,Nh2,gxh3,g3,a6,Ba4,b5,Bc2,h5,Bg5,Bg7,Nd2,exd4,cxd4,Nxd4,e5,dxe5,Rxe5+,Ne6,Ne4,Kf8,Qf3,Nxg5,Nxg5,c5,Rxc5,Qb6,Qxa8+,Ke7,Re5+,Be6,Qf3,Rf8,Bb3,Ng4,Nxg4,hxg4,Rxe6+,fxe6,Qxg4', 'Qxf2+,Kh1,Qg2#', 'https://lichess.org/training/R4iOQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4iqk', 'Rapid', 'saint-marc', 1879, 'stomatologiaJulia', 1880, 'd4,d5,Nf3,Nf6,g3,h6,Bg2,Bf5,O-O,e6,Nbd2,c6,c4,Nbd7,b3,Bd6,a4,Bc7,b4,O-O,Ba3,a5,b5,Re8,bxc6,bxc6,Re1,dxc4,Nxc4,Nd5,e4,Nc3,Qc2,Nxe4,Rxe4,Nf6,Nfe5,Nxe4,Bxe4,Qxd4,Bxf5,Qxa1+,Kg2,Bxe5,Bh7+,Kh8,Nxe5,Qxe5,Bb2,Qd5+,Be4,Qa2', 'Bxg7+,Kxg7,Qxa2', 'https://lichess.org/training/r4iqk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R4iTl', 'Rapid', 'MOHD_MOGHAZY', 1696, 'matteop4', 1660, 'e4,c5,Nf3,Nc6,Bb5,g6,d3,Bg7,Nc3,Nf6,Bxc6,bxc6,e5,Ng4,h3,Nxe5,Nxe5,Bxe5,O-O,d5,f4,Bd4+,Kh1,O-O,Ne2,Bg7,c3,d4,c4,Bf5,Ng3,Qd7,Nxf5,Qxf5,b3,a5,a4,Rab8,Ba3,Rfd8,Qc2,e5,fxe5,Qxe5,Rae1,Qg3,Bxc5,Re8,Rxe8+,Rxe8,Qd1,Rb8,Qc2,Re8,Qd1,Rb8,Rf3,Qe5,Ba3,c5,Bc1,h5,Bf4,Qe8,Bxb8,Qxb8,Rf2,f5,Re2,g5,Rb2,Qc8,Qxh5,g4,h4,Qe6,Rb1,Be5,Re1,Qf6,Qg5+,Kf7,Qh5+,Kg7,Qg5+,Kf7,Qh5+,Kg7,Qe8', 'Qxh4+,Kg1,Qxe1#', 'https://lichess.org/training/R4iTl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R4k5M', 'Rapid', 'Greatgun', 1707, 'shedi', 1614, 'e4,c6,d4,d5,Nc3,e6,e5,c5,Nf3,cxd4,Nxd4,Bc5,Bb5+,Bd7,O-O,a6,Bxd7+,Nxd7,Be3,Nxe5,f4,Nc4,Bf2,Nxb2,Qh5,Qb6,Nxe6,Bxf2+,Rxf2,Qxe6', 'Re2,O-O-O,Rxe6', 'https://lichess.org/training/R4k5M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4Kgk', 'Blitz', 'Arslan0312', 1667, 'L4S', 1673, 'd4,d5,c4,Nf6,Nc3,dxc4,e3,e6,Bxc4,c6,Nf3,Bb4,O-O,Bxc3,bxc3,O-O,Bd3,Nbd7,e4,a6,e5,Nd5,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,N7f6,exf6,Nxf6,Qh4,g6,Bf4,Kg7,Be5,Rh8,Qf4,Rh5,Ne4,Rf5,Qh4,Bd7,Nxf6,Rxf6,Rfe1,Qe7,Re3,Rh8,Qf4,Rh5,g4,g5,Qf3,Rh6,Rb1,b5,c4,Kg6,Qe4+,Kg7,Rf3,Kh8,cxb5,axb5,a4,b4,Rxb4,Qxb4,Bxf6+,Kg8,Qe5,Qb1+,Kg2,Qb4,Rc3,Qxc3', 'Qb8+,Bc8,Qxc8+,Kh7,Qh8+,Kg6,Qg7#', 'https://lichess.org/training/r4Kgk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R4KLG', 'Rapid', 'Muleskinner', 1928, 'invitro01', 1957, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Bf5,Nf3,e6,cxd5,Nxd5,Bb5+,Nd7,O-O,Be7,Ne5,Nb6,Qf3,O-O,Nxd7,Nxd7,Qxb7,Nb6,Be3,Qd6,Qf3,Qb4,Qe2,Rac8,a3,Qd6,Rac1,Nd5,Nxd5,Qxd5,Bd3,Bg6,f3,Bd6,Ba6,Rxc1,Rxc1,Qh5,g3,f5,Rc6,Bb8,Kg2,f4,Bf2,fxg3,Qxe6+,Bf7,Qxf7+,Rxf7', 'Rc8+,Rf8,Bc4+,Qf7,Bxf7+,Kxf7,Rxf8+', 'https://lichess.org/training/R4KLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4Luj', 'Classical', 'andreea99', 1836, 'mir_alex', 1622, 'e4,e5,Nf3,d6,h3,Be7,Nc3,c6,d4,exd4,Nxd4,Bf6,Be3,Ne7,Bd3,Nd7,O-O,Ne5,f4,Nxd3,cxd3,Ng6,f5,Ne5,Nde2,Qc7,Qd2,Bd7,a4,Ke7,b3,g6,d4,gxf5,dxe5,Bxe5,exf5,Rag8,Bxa7,b6,Rad1,Qxa7,Ne4,Rxg2+,Kxg2,Rg8+,Kh1,c5,N2c3,Bc6,Nd5+,Kd8,Rg1,Rxg1+,Rxg1,Kd7,Rd1,Qb7,Nec3,Bd4,Qd3,Bxd5+,Nxd5,Qxd5+,Kh2,Be5+,Kg1,Bd4+,Kf1', 'Qh1+,Ke2,Qg2+,Ke1,Qf2#', 'https://lichess.org/training/r4Luj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4lUZ', 'Classical', 'Acivi', 1633, 'Silverpin', 1640, 'e4,e5,Bc4,Nf6,Nc3,Bb4,Nf3,d6,d3,Nbd7,O-O,O-O,h3,Nb6,Bb3,Bxc3,bxc3,Re8,Ng5,Be6,Qf3,Nbd7,Qg3,Bxb3,cxb3,h6,Nf3,Re6,Bxh6', 'Nh5,Qg5,Rxh6,Qxd8+,Rxd8', 'https://lichess.org/training/r4lUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4nuH', 'Blitz', 'FM SquashMaestro', 2178, 'alexandremagno', 1868, 'e4,c6,d4,d5,Nc3,e6,Nf3,Nd7,Be2,f5,exd5,exd5,O-O,Ngf6,Re1,Be7,Ne5,O-O,f4,Ne4,Nxe4,fxe4,c4,Nxe5,fxe5,Be6,c5,Bg5,Qb3,Rb8,Qg3,Bxc1,Raxc1,Qe7,b4,a6,a4,Rf7,h3,Rbf8,b5,cxb5,axb5,axb5,Bxb5,Rf4,c6,bxc6,Rxc6,R4f5,Ba4,Rg5', 'Rxe6,Qxe6,Qxg5', 'https://lichess.org/training/r4nuH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4NvZ', 'Rapid', 'empiriokriticismen', 1823, 'GrandQueen', 1839, 'd4,e6,Nf3,d5,Bf4,Nf6,h3,Bd6,Be5,Nc6,e3,Bxe5,dxe5,Nd7,Bb5,O-O,Bxc6,bxc6,O-O,Ba6,Re1,Rb8,Qd4,c5,Qc3,c4,Nd4,Nxe5,f4,c5,Nxe6,Nf3+,gxf3,fxe6,Qe5,Re8,b3,cxb3,axb3,Qb6,Nc3,Bb7,Kh2,Bc6,Rg1,Rb7,Rg3,Qb4,Rag1,Ree7,Rxg7+,Rxg7,Qxe6+,Kh8', 'Qc8+,Be8,Qxe8+,Rg8,Qxg8#', 'https://lichess.org/training/r4NvZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4Ohb', 'Blitz', 'nvm123', 2008, 'chd10', 1898, 'd4,d5,Nf3,e6,Bf4,Nf6,e3,c5,Nbd2,Nc6,c3,a6,h3,b5,Bd3,Bb7,O-O,c4,Bc2,b4,Ne5,Bd6,Bg3,Qc7,f4,a5,Qf3,Ne7,Bh4,Nfg8,Qg4,Bxe5,fxe5,Ng6,Bg3,Nh6,Qf3,O-O,Bf4,Nxf4,exf4,Nf5,g4,Nh4,Qg3,Ng6,f5,exf5,gxf5,Ne7,f6,Ng6,fxg7,Kxg7,h4,Kh8,Kh2,Rg8,Qf2,Rg7,h5,Nxe5,dxe5,Qxe5+,Kh1,Qxh5+,Qh2,Qxh2+,Kxh2,bxc3,bxc3,d4,Be4,Bxe4,Nxe4,d3,Rad1,Rb8,Rd2,a4,Nd6,Kg8,Nxc4,Rc8,Rf4,Rg6,Rxd3,Rgc6,Ne5,Rxc3,Rxc3,Rxc3,Rxa4,f6,Ng4,Kg7,Ra7+,Kg6,a4,Rc4,Kg3,h5,Nf2,h4+,Kg2,Rc2,Kg1,Kg5,a5,Ra2,a6,Kf4,Ra8,Kg3,a7', 'Ra1+,Nd1,Rxd1#', 'https://lichess.org/training/r4Ohb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R4PGy', 'Blitz', 'Rique-jp', 1659, 'caspardar', 1794, 'c4,c5,Nc3,e6,g3,Nf6,Bg2,Be7,a3,O-O,Rb1,d6,b4,Nbd7,bxc5,Nxc5,d3,Rb8,Be3,b6,Nf3,Bb7,O-O,Ng4,Bd4,e5,Bxc5,dxc5,h3,Nf6,Nxe5,Bxg2,Kxg2,Qd4,Nc6,Qxc3,Nxe7+,Kh8,Nc6,Rb7,Qb3,Qxb3,Rxb3,Re8,Re1,Rc7,Nxa7,Rxa7,Rxb6,Rxa3,Rc6,Ra5,e4,g6,Rd1,Nd7,Rc7,Rd8,d4,Nf6,Rxf7,Nxe4,d5,Ra4,Re7,Nc3,Rd2,Rxc4,d6,Rd4', 'Rxd4,cxd4,d7,Rxd7,Rxd7', 'https://lichess.org/training/R4PGy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4pRv', 'Rapid', 'tzvikab', 1722, 'Francesco1984', 1604, 'Nf3,d5,g3,c5,Bg2,e6,O-O,Nf6,d3,Be7,e4,dxe4,dxe4,Nxe4,Qe2,Nf6,Rd1,Qb6,Nc3,O-O,Bf4,Qxb2,Be5,Ng4,Na4,Qa3,Qe4,Nc6', 'Qxg4,Nxe5,Nxe5', 'https://lichess.org/training/r4pRv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4Pyx', 'Rapid', 'zachess', 1663, 'hnb', 1823, 'e4,e6,d4,c6,c4,d5,e5,Bb4+,Bd2,Qa5,a3,Bxd2+,Qxd2,Qxd2+,Nxd2,Ne7,Ngf3,Nf5,Bd3,g6,O-O,Nd7,cxd5,cxd5,Nb3,b6,a4,O-O,a5,Bb7,axb6,axb6,Nbd2,Bc6,b4,b5,Nb3,Nb6,Nc5,Nc4,Rfd1,Nb2,Rxa8,Rxa8,Rd2,Nc4,Rd1,Nb2,Rd2,Ra1+,Bf1,Nc4,h3,h6,g4,Ng7,Nb3,Rb1,Na5,Nxd2,Nxd2,Rc1,Nxc6,Rxc6,Bxb5,Rc1+,Kg2,h5,Bf1,Ne8,b5,Rc2,Nb3,Rb2,Nc5,Kg7,Na4,Rb4,Nc5,Nc7,gxh5,Nxb5,hxg6,fxg6,Nxe6+,Kh6,Nf4,Nxd4,Nxd5,Rb2,Nf4,Kg5,e6', 'Kxf4,e7,Rb8', 'https://lichess.org/training/r4Pyx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R4Q14', 'Classical', 'Adro81', 1823, 'SM_Player', 1848, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bg4,Bd3,Nc6,c3,Nf6,Nbd2,e6,h3,Bh5,g4,Bg6,Bxg6,hxg6,Nb3,Nxg4,Bf4,Bd6,Qd2,Qc7,Bxd6,Qxd6,O-O-O,Nf6,Ne5,Nxe5,dxe5,Qxe5,Nc5,O-O-O,Qc2,Kb8,Qb3,Qc7', 'Na6+,Kc8,Nxc7', 'https://lichess.org/training/R4Q14');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R4QkC', 'Rapid', 'musis1985', 1687, 'vojnik90', 1618, 'e4,g6,Nf3,Bg7,d4,d6,Bc4,Nd7,a3,Ngf6,Nc3,O-O,Qd3,Re8,Bd2,e5,d5,a6,Bg5,b5,Ba2,Bb7,h4,h6,Be3,c6,O-O-O,cxd5,exd5,e4,Nxe4,Bxd5,Bxd5,Ne5,Nxe5,dxe5,Qb3,Nxd5,Rxd5,Qc7,Rc5,Qe7,g3,Kh7,Rd1,f5,Nd6,Red8,Rcd5,f4,Bc5,fxg3,Ne4,Qxh4,Nxg3,e4,Rxd8,Rxd8,Rxd8,Qxd8,Be3,Qe7,Qd5,Qf6,c3,Qf3,Nxe4,Qh1+,Qd1,Qxe4,Qd6,h5,Qxa6,h4,Qxb5,h3,Qf1,Qg2,Qxg2,hxg2,f4,Bh6,Kd2', 'Bxf4,Bxf4,g1=Q', 'https://lichess.org/training/R4QkC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R4rHq', 'Rapid', 'sadegh2704', 1941, 'SL81', 1830, 'e4,c6,d4,a6,c4,Nf6,Nc3,Qa5,Nf3,Nxe4,Bd2,Nxc3,Bxc3,Qh5,Bd3,d5,cxd5,cxd5,O-O,Bg4,Be2,Bxf3,Bxf3,Qf5,g4,Qd7,Qb3,e6,Rfe1,Be7,Bb4,Nc6,Bxe7,Nxe7,Rac1,O-O,Qb6,Rac8,Rc3,Rc6,Qb4,b5,Rec1,Rfc8,a4,Rxc3,Rxc3,Nc6,Qc5,Ne7', 'Qxe7,Qxe7,Rxc8+,Qf8,Rxf8+', 'https://lichess.org/training/R4rHq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4rl2', 'Rapid', 'K-vent', 1993, 'posohov', 2195, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bb5+,Bd7,Be3,a6,Bxd7+,Qxd7,Qe2,Qc7,O-O-O,Be7,h4,O-O,h5,Nc6,g4,Nd7,f4,Rfc8,h6,g6,f5,Nxd4,Bxd4,b5,a3,Ne5,fxe6,fxe6,Bxe5,dxe5,Rd3,Bc5,Rf1,Rf8,Rdf3,Rf4,Qh2,Raf8,Qh3,b4,axb4,Bxb4,Ne2,Rxe4,Rxf8+,Bxf8,Qf3,Rf4,Nxf4,exf4,Qxf4', 'Qxf4+,Rxf4,Bxh6', 'https://lichess.org/training/r4rl2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R4uWd', 'Rapid', 'Lofigr', 1888, 'Sowerlandman', 2023, 'e4,Nf6,Nf3,Nxe4,d4,d5,c4,Nf6,Bg5,e6,Nc3,c6,Bd3,Nbd7,O-O,Bd6,c5,Bc7,Re1,h6,Bh4,O-O,Ne5,Qe8,Re3,Nxe5,Bxf6,Nxd3,Bxg7,Nxf2,Qf3,Kxg7,Qxf2,f5,Qh4,Bd7,Rf1,Rf6,g4,Qg6,Kh1,Bf4,Rxf4,Raf8,Rg3,Kh7,gxf5,Qf7,Rfg4,Rxf5,Rg7+,Qxg7,Rxg7+,Kxg7,Ne2,R8f7,Ng3,Rf4', 'Nh5+,Kh7,Nxf4', 'https://lichess.org/training/R4uWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r4Vl2', 'Classical', 'hasnALkhateeb', 1886, 'spad79', 1880, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,exd6,Qxd6,Be2,g6,Nc3,Bg7,O-O,Nf4,Bxf4,Qxf4,g3,Qf6,Bb5,Bg4,Be2,Bxf3,Bxf3,Qxd4,Qb3,Qd7,Rad1,Nd4,Bxb7,Rb8,Rxd4,Bxd4,Bc6,Rxb3,Bxd7+,Kxd7,axb3,Rb8,Rd1,e5,Ne2,Rb4,Rd3,Ke7,Nxd4,Rxd4,Rxd4,exd4,Kf1,Kd6,Ke2,a5,Kd3,Kd5,f4,f5,h3,h6,g4,h5,gxf5', 'gxf5,h4,Kc5', 'https://lichess.org/training/r4Vl2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R55iT', 'Blitz', 'TooWeakTooSlow1', 1533, 'Wisedome', 1546, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,f6,c3,Bb7,O-O,Bc5,Re1,Nge7,d4,Ba7,Be3,exd4,cxd4,Na5,d5,d6,Nc3,O-O,Ne2,Nc4,Bxa7,Rxa7,Qc2,Ne5,Nxe5,fxe5,Ng3,a5,Qd2,a4,Bd1,c5,Bg4,Ng6,Be6+,Kh8,Nf5,Nf4,g3,Nxe6,dxe6,Qe8,Nxd6,Qc6,Nxb7,Rxb7,Qg5,Qxe6,Rad1,Qxa2,Rd5,Qxb2,Rf1,c4,Rd8,Rg8', 'Rxg8+,Kxg8,Qd8+,Kf7,Qd5+', 'https://lichess.org/training/R55iT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R58BW', 'Blitz', 'alexche_78', 1862, 'Roman_Kolesnikov36', 1996, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,f4,h6,c3,e6,Nf3,Bd6,Bc4,Qc7,Ne2,Nd7,O-O,Ngf6,Ne5,O-O-O,Ng3,h5,Nxg6,fxg6,Bxe6,Kb8,h4,Rhe8,Bxd7,Rxd7,Qc2,Rde7,Qxg6,Ng4,Nf5,Re6,Qxg7,Re1,Qxc7+,Bxc7,Ng7,R8e2,f5', 'Bh2+,Kh1,Rxf1#', 'https://lichess.org/training/R58BW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R59Jy', 'Rapid', 'domini85', 1834, 'rompe_tableros', 1787, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nge2,Bb4,g3,Nf6,Bg2,O-O,O-O,Bxc3,Nxc3,Qe8,a3,Nc6,Be3,Rb8,d5,exd5,Nxd5,Nxd5,Qxd5,Be6,Qg5,h6,Qf4,g5,Qxc7,f5,Bc5,Rf7,Qd6,Rd8,Bxc6,bxc6,Qe5,Rd5,Qc3,Rfd7,Be3,f4,gxf4,gxf4,Bxf4,Qg6+,Bg3,h5,Kh1,Qe4+,f3,Qg6,Qxc6,Rd2,Rf2,Rd1+,Rxd1', 'Rxd1+,Kg2,Bh3+,Kxh3,Qxc6', 'https://lichess.org/training/R59Jy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r5EjU', 'Rapid', 'saeidheydari82', 1810, 'dekmantell', 1786, 'd4,Nf6,e3,g6,Nf3,Bg7,c3,O-O,Bd3,d5,Qc2,b6,Nbd2,c5,b3,c4,bxc4,dxc4,Bxc4,Be6,Bxe6,fxe6,Qb3,Nd5,e4,Nc7,e5,Nd5,O-O,Nc6,Qb5,Qd7,c4,Ndb4,Bb2,Rfb8,a3,a6,Qa4,a5,axb4,axb4,Qxa8,Rxa8,Rxa8+,Kf7,Rfa1,Bh6,h3,Bxd2,Nxd2,Nxe5,dxe5,Qxd2,Bc1,Qc3,Be3,Qxc4,Bxb6,b3,Rb1,Qc2,Rf1,b2,Ra2,Qc1,Be3', 'Qxf1+,Kxf1,b1=Q+', 'https://lichess.org/training/r5EjU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R5lNE', 'Rapid', 'RobTob1155', 1854, 'mybcpty29', 1955, 'e4,c5,Nc3,e6,g3,a6,Bg2,Qc7,d3,b5,Nge2,Bb7,O-O,Nc6,f4,Nge7,Be3,Ng6,f5,Nge5,fxe6,dxe6,Bf4,Bd6,Kh1,O-O,d4,cxd4,Nxd4,Nxd4,Qxd4,Rad8,Qf2,Nc4,Bxd6,Rxd6,Rad1,Rfd8,Rxd6,Rxd6,Rd1,Rxd1+,Nxd1,Qe5,b3,Nd6,Qd2,g6,Nc3,Nxe4,Bxe4,Bxe4+,Kg1,Kg7,Qe3,f5,Qa7+,Kf6,Qxh7,Qxc3', 'Qh8+,Kf7,Qxc3', 'https://lichess.org/training/R5lNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r5LQv', 'Rapid', 'LoeweOpta', 2189, 'GreenTeaMonkey', 2239, 'Nf3,g6,g3,Bg7,d4,f5,Bg2,Nf6,O-O,O-O,c4,d6,Nc3,c6,Rb1,a5,a3,Ne4,Qc2,e5,Rd1,Nxc3,bxc3,e4,Ng5,h6,Nh3,g5,Kh1,d5,cxd5,cxd5,c4,Nc6,e3,Rf7,cxd5,Ne7,Bf1,Nxd5,Qa2,Be6,Bc4,Rc7,Ng1,Rac8,Bxd5,Bxd5,Qd2,Rc2,Qe1,Qe7,Qxa5,Rxf2', 'Qxd5+,Qf7,Qxf7+', 'https://lichess.org/training/r5LQv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r5nIj', 'Rapid', 'smart-arse', 1993, 'cnsctk', 1786, 'c4,e5,g3,f5,Bg2,Nf6,Nc3,e4,d4,d6,f3,Be7,fxe4,fxe4,Nxe4,Nxe4,Bxe4,O-O,Bg2,Bg5,Bxg5,Qxg5,Nf3,Qf6,O-O,Bg4,Ne5,Qg5,Nxg4,Rxf1+,Bxf1,Qxg4,Bg2,c6,Qd3,Nd7,Rf1,Re8,Bf3,Qe6,d5,Qe5,dxc6,bxc6,Bxc6', 'Qc5+,Rf2,Qxc6', 'https://lichess.org/training/r5nIj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R5nKm', 'Rapid', 'lastexiteer', 1844, 'dingodogdingo', 1845, 'e4,c6,d4,d5,e5,Bf5,Bd3,e6,Ne2,Bb4+,c3,Ba5,O-O,Ne7,Ng3,Bxd3,Qxd3,Nd7,Be3,Qc7,b4,Bb6,a4,a6,f4,Ba7,f5,exf5,Nxf5,Nxf5,Qxf5,O-O-O,b5,axb5,axb5,Kb8,bxc6,Qxc6,Bf4,g6,e6+,Ka8,Qxf7,Rhf8,Qxh7,Qxe6,Nd2,Rxf4,Rxf4,Qe3+,Rf2,Qxc3,Ra4,Qc1+,Rf1,Qxd2,Qxd7,Qxd4+,Kh1,Qh8,Qc7,Rc8,Rfa1', 'Qxa1+,Rxa1,Rxc7', 'https://lichess.org/training/R5nKm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r5O0I', 'Blitz', 'DystopianOverture', 1652, 'Daesuk', 1543, 'd4,d5,c4,dxc4,e4,e5,d5,b5,Nf3,Bg4,Be2,Bxf3,Bxf3,Nf6,Nc3,Bc5,a3,c6,O-O,cxd5,exd5,a6,Qc2,O-O,Bg5,h6,Bh4,g5,Bg3,Ra7,Bxe5,g4,Bxf6,Qxf6,Bxg4,Nd7,Qf5,Qd4,Rad1,Qe5,Qf3,f5,Bh3,Nf6,Rfe1,Qb8,Bxf5,Rg7,Be6+,Kh8,Qh3,h5,Ne4,Ng4,Qxh5+,Rh7,Qxg4,Qxh2+,Kf1,Qh1+,Ke2,Qh6,Rh1', 'Rxf2+,Nxf2,Qe3+,Kf1,Qxf2#', 'https://lichess.org/training/r5O0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r5OkQ', 'Classical', 'Phil12345', 1853, 'alireza138524', 1808, 'd4,e6,Nf3,d5,Bg5,Be7,Bxe7,Nxe7,c4,O-O,e3,Ng6,cxd5,exd5,Bb5,c6,Bd3,Qf6,h3,Bf5,Nc3,Nd7,Bxf5,Qxf5,Qb3,b6,O-O,Rfe8,Rac1,Nf6,Na4,Rac8,Rc3,Ne4,Rc2,Re6,Nc3,Nd6,Na4,Ne4,Nc3,Nd6,Rfc1,Ne7,Ne5,Ng6,Nf3,Ne7,Na4,Ne4,Ne5,Rf6,Ng4,Rg6,Ne5,Rf6,f3,Ng3,Kf2,Ne4+,Kg1,Ng5,h4,Ne6,Nxc6,Nxc6,Rxc6,Rxc6,Rxc6,Qb1+,Kh2,Rf5,g4,Rxf3,Rc8+,Nf8,Qc2,Qf1,Qg2', 'Rf2,Qxf2,Qxf2+', 'https://lichess.org/training/r5OkQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R5oUm', 'Rapid', 'Ignat125', 1966, 'Lonelywolf', 1738, 'e4,e6,d4,d6,c4,Ne7,Nc3,Nd7,Nf3,Ng6,h4,Be7,h5,Ngf8,b3,h6,Bd3,c6,Be3,b6,d5,cxd5,exd5,e5,Bf5,Bb7,Qd2,Nf6,O-O-O,a6,Rhe1,N8d7,Kb1,b5,c5,b4,c6,bxc3,Qxc3,Qc7', 'cxd7+,Qxd7,Bxd7+', 'https://lichess.org/training/R5oUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r5pde', 'Blitz', 'JonaMahlahla', 1872, 'fujiama', 1857, 'd4,c5,e3,d5,Nf3,Nc6,Bb5,e6,O-O,Bd6,c4,cxd4,exd4,dxc4,Bxc4,Nf6,Nc3,O-O,Bg5,h6,Bh4,a6,a4,b6,d5,Na5,Ba2,e5,Ne4,Bg4,Qd2,Nxe4,Qe3,Nf6,h3,Bxf3,Qxf3,Be7,Bg3,e4,Qe3,Bc5,Qd2,Nb7,b4,Bd6,Bh4,Re8,Rac1,Rc8,Kh1,Rxc1,Rxc1,Qd7,Rc6,Qf5,Rxb6,Re7,Rxa6,Qe5,Bg3,Qa1+,Kh2,Bxg3+,fxg3,e3,Qe2,Ne4,Ra8+,Kh7,a5,Qe5,Qf3,Ng5,Bb1+,g6,Qe2,h5', 'Qxh5+,Kg7,Qh8#', 'https://lichess.org/training/r5pde');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r5Ps0', 'Classical', 'Alijanbein1', 1732, 'Mohamadonwater', 1661, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,O-O-O,h3,Bh5,d3,e5,Re1,Bg6,a3,Kb8,b4,a6,c4,Qe6,b5,axb5,cxb5,Na5,Be3,Nc4,Bg5,f6,Qb3,fxg5,Qxc4,Qxc4,dxc4,Bc5,Nxe5,Rhf8,Bf3,Rd2,Red1,Rfd8,Nxg6,hxg6,Rf1,R8d4,Rae1,Rxc4,Re6,Rcc2,Rxg6,Rxf2,Rxf2,Rxf2,Kh2,Bd6+,Kg1,Bc5,Rxg5,Be3,Re5', 'Rxf3+,Kh2,Bf4+', 'https://lichess.org/training/r5Ps0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r5qY1', 'Rapid', 'Koteski', 1784, 'sherlockdan', 1751, 'e4,d5,exd5,c6,dxc6,Nxc6,Bb5,Bd7,Nf3,Nf6,d4,e6,Ne5,Nxe5,Bxd7+,Nexd7,Bg5,Be7,O-O,O-O,Nd2,Nd5,Bxe7,Qxe7,Nf3,Rac8,Re1,Qf6,c3,Nf4,Qd2,Rfd8,Rad1,Nb6,b3,Nbd5,c4,Qg6,g3,Nh3+,Kg2,Ndf4+,Kf1,Qg4,Ne5,Qh5,gxf4,f6,Nd3,Qg4,Qe3,Qg1+,Ke2,Qg4+,Kd2,e5,fxe5,Rxd4,Kc3,Rcd8,f3,Qf5,exf6,Rxd3+', 'Rxd3,Rxd3+,Qxd3,Qa5+,b4', 'https://lichess.org/training/r5qY1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r5SDz', 'Classical', 'bromeatmeco', 1875, 'igorNogovicin', 2025, 'd4,e6,c4,d5,Nc3,Bb4,Nf3,Nf6,a3,Bxc3+,bxc3,Ne4,Qc2,c6,cxd5,cxd5,Bf4,Qa5,e3,Qxc3+', 'Qxc3,Nxc3,Rc1', 'https://lichess.org/training/r5SDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r5SHO', 'Blitz', 'MonBlue', 1683, 'awsem', 1698, 'e4,e6,Nf3,d5,e5,c5,d4,Nc6,Bb5,Ne7,c4,Qb6,Bxc6+,Nxc6,cxd5,exd5,dxc5,Bxc5,O-O,O-O,Nc3,Bg4,Na4,Qa5,Nxc5,Qxc5,Be3,Bxf3,Qxf3,d4,Bf4,Nxe5,Bxe5,Qxe5,Rfe1,Qc5,Rad1,Rad8,Qb3,b6,Qd3,Rd7,a3,Rfd8,Re4,a5,h3,f5,Re6,Kf7,b4,axb4,axb4,Qxb4,Qxf5+,Kg8,Qe4,Qc3', 'Re8+,Kf7,Qe6#', 'https://lichess.org/training/r5SHO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R5U4M', 'Rapid', 'lkijanovic', 2015, 'Muhammet1812', 2114, 'd4,d5,c4,Bf5,cxd5,Qxd5,Nc3,Qa5,Bf4,Nc6,e3,O-O-O,Bd3,Bxd3,Qxd3,e6,Ne2,Nb4,Qd2,Nf6,O-O,Nbd5,Nxd5,Qxd2,Nxc7,Bd6,Rac1,Bxc7', 'Rxc7+,Kb8,Rc2+,Ka8,Rxd2', 'https://lichess.org/training/R5U4M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R5y84', 'Blitz', 'Salaheldin2021', 1904, 'emnaki', 1922, 'c4,Nf6,d4,c5,d5,e6,d6,Qb6,Nc3,Bxd6,e4,O-O,Bh6,gxh6,Qd2,Kg7,Bd3,Nc6,f4,e5,f5,Nd4,Nf3,Rg8,O-O-O,Kf8,Qxh6+,Ke7,Ng5,Qa5,Nxh7,Nxh7,Nd5+,Kd8,Qxh7,Re8,a3,Qa4,Qxf7,b6,Qf6+,Be7,Qg6,Ba6,Rhf1,Bxc4,f6,Bxd3,fxe7+,Rxe7', 'Rf8+,Re8,Rxe8#', 'https://lichess.org/training/R5y84');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R5yv6', 'Rapid', 'eazyzizi', 1885, 'spker27', 1875, 'e4,e5,Nc3,c6,f4,exf4,Nf3,d6,d4,g5,Bc4,Be6,d5,cxd5,Bxd5,Bxd5,Qxd5,h6,Qxb7,Nd7,Nd5,Bg7,Nc7+,Ke7,Qxa8,Qxc7,Qd5,Ngf6,Qb3,Ng4,h3,Rb8,Qd3,Nge5,Nxe5,Nxe5,Qd5,Qxc2,Qd2,Qxe4+,Qe2,Nd3+,Kf1,Qxe2+,Kxe2,Nxc1+,Raxc1,Rxb2+,Kf3,Rxa2,Rhe1+,Be5,Kg4,Kf6,Rg1,Kg6,h4,h5+,Kf3,g4+,Ke4,f5+,Kd5,a5,Rc8,Kh6,Rgc1,Rxg2,Rg8,f3,Ke6,f2,Kf7,Rg1,Rcc8,f1=Q', 'Rh8+,Bxh8,Rxh8#', 'https://lichess.org/training/R5yv6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r65GT', 'Rapid', 'chrisemann', 1919, 'samyco', 1911, 'd4,d5,c4,e6,Nf3,c5,cxd5,Qxd5,Nc3,Qd7,e3,cxd4,Bb5,Nc6,Nxd4,Bb4,Qg4,Bxc3+,bxc3,g6,Qg5,a6,Ba4,b5,Bb3,Nxd4,cxd4,h6,Qe5,f6,Qe4,Kf7,Qxa8,Bb7,Qa7,Ne7,O-O,Ra8,Qc5,Rc8,Qb6,Rc6,Qa5,Nd5,Bb2,g5,Rac1,h5,Rxc6,Qxc6,Rc1,Nc3,Kf1,Qxg2+,Ke1,Nd5,Bxd5,Bxd5,Qc7+,Kg6,Qg3,Qh1+,Kd2,Qe4,a3,Bc4,Rc3,Qh1,Rxc4,bxc4,Kc3,Qb1,Qb8', 'Qd3+,Kb4,Qb3+,Kc5,Qxb8', 'https://lichess.org/training/r65GT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R68wq', 'Classical', 'akhildavid447', 1765, 'deepakchauhan', 1652, 'e4,c5,f4,e6,Nf3,d5,e5,Nc6,Bb5,Bd7,O-O,Nge7,Bxc6,Bxc6,d4,Nf5,c3,h5,Ng5,Be7,dxc5,Bxc5+,Kh1,h4,b4,Be3,Qd3,Bxc1,Rxc1,h3,Nxh3,Qh4,Nd2,d4,Nf3,Bxf3,Qxf3,Rd8,cxd4,g6,Qxb7,Kf8,Rc7,Rh7,Rc8,Kg7,Rxd8,Qxd8,Ng5', 'Ng3+,Kg1,Qxd4#', 'https://lichess.org/training/R68wq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r69mQ', 'Rapid', 'Xmardok', 1750, 'DzingiDzingi', 1820, 'e4,c5,g3,Nc6,Bg2,e5,Ne2,d6,h3,Nf6,d3,Nd4,Nxd4,cxd4,O-O,Be7,Kh2,h6,f4,Qd7,f5,d5,c3,dxc3,Nxc3,d4,Ne2,b6,Ng1,O-O,Nf3,Bd6,Bd2,Bb7,a3,Rac8,Bb4,Ne8,Bxd6,Qxd6,Rc1,Nc7,Qd2,Nb5,Rxc8,Rxc8,Rc1,Rxc1,Qxc1,f6', 'Qc4+,Kh7,Qxb5', 'https://lichess.org/training/r69mQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6CS6', 'Rapid', 'jmnChess', 1663, 'Alhat', 1667, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Qf6,Bg5,Qg6,O-O,Bc5,Qd2,h6,Bf4,d6,Nh4,Qg4,Nf5,Bxf5,exf5,Qxf5,Re1+,Nge7,Na3,O-O,Nb5,Rac8,Re4,Bb4,c3,dxc3,bxc3,Qxe4,Bd3,Qe6,Re1,Qf6,cxb4,a6,Nc3,Ng6,Bg3,Nce5,Nd5,Qe6,Bb1,Qd7,f4,Nc4,Qc3,b5,Bxg6,fxg6,Ne7+,Kh7,Nxc8,Rxc8,Bh4,c5', 'Re7,Qxe7,Bxe7', 'https://lichess.org/training/R6CS6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r6CUL', 'Rapid', 'sokolovbasic', 2145, 'Rio2005', 2276, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Be3,O-O,Be2,cxd4,cxd4,Nd7,O-O,b6,e5,Bb7,Rc1,Qb8,Qa4,Qd8,Rfd1,e6,Qb3,Bd5,Qa3,a5,Nd2,Re8,Nc4,f6,Nd6,Re7,f4,Nf8,h3,Rc7,Rxc7,Qxc7,Rc1,Qe7,Qb2,g5,Rc8,Rxc8,Nxc8,Qd8,Nxb6,gxf4,Bxf4,fxe5,dxe5,Ng6,Bg3,Nxe5,Nxd5', 'Nf3+,Bxf3,Bxb2', 'https://lichess.org/training/r6CUL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r6DPR', 'Classical', 'PFKTyrone', 2142, 'Rekhyt11', 1959, 'd4,d5,c4,dxc4,e4,e5,d5,Bb4+,Bd2,Qd6', 'Qa4+,Bd7,Qxb4,Qxb4,Bxb4', 'https://lichess.org/training/r6DPR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r6FVV', 'Rapid', 'wiesiulek11', 1721, 'Maris-S', 1772, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,d3,Nc6,O-O,Be7,Be3,O-O,Qd2,Ng4,a3,Nxe3,fxe3,Kh8,Nd5,f5,exf5,Bxf5,e4,Bg4,Qe2', 'Nd4,Nxd4,Bxe2', 'https://lichess.org/training/r6FVV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6gfE', 'Blitz', 'Nexpr_58pr', 1954, 'rmbs12', 1920, 'e4,c5,f4,d6,Nc3,Nc6,Bc4,e6,Nf3,a6,a3,b5,Ba2,Bb7,d3,Nf6,O-O,Nd4,Nxd4,cxd4,Ne2,e5,fxe5,dxe5,Bg5,Be7,Rf5,Qc7,c3,dxc3,Rc1,Qb6+,Kh1,cxb2,Rc3,Nxe4,dxe4,Bxg5,Rxf7,Rd8,Qf1,Bf6,Rcc7,Bxe4,Rxg7,Bxg2+,Kxg2,Rd2,Rge7+,Bxe7', 'Qf7+,Kd8,Qxe7#', 'https://lichess.org/training/R6gfE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6hWe', 'Rapid', 'Eric77', 1708, 'Zamel', 1926, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,Nf3,O-O,cxd5,Nxd5,Bxe7,Qxe7,e4,Nf4,Bc4,a6,O-O,b5,Bb3,Bb7,Qd2,Ng6,Rfe1,Rd8,Rab1,c5,d5,c4,Bc2,Nc6,Qe3,Nce5,Rbd1,Rd6,dxe6,Nxf3+,Qxf3,Rxe6,h3,Ne5,Qe3,Nd7,Rd2,Nc5,f3,f5,f4,Nxe4,Nxe4,Bxe4,Bxe4', 'Rxe4,Qxe4,fxe4', 'https://lichess.org/training/R6hWe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6Jpb', 'Rapid', 'Jaiber', 1915, 'aceng123', 1856, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Qxd4,Bd7,Bxc6,bxc6,Nc3,Nf6,Bg5,Be7,h3,O-O,O-O-O,Be6,g4,Rb8,Qa4,Rb6,Nd4,Bd7,Qxa7,h6,Be3,c5,Nf5,Bxf5,gxf5,Qc8,Rhg1', 'Ra6,Qxa6,Qxa6', 'https://lichess.org/training/R6Jpb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6Khi', 'Classical', 'drcharlya', 1823, 'Michael_Eremenko', 1726, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nb3,Nc6,Be3,b5,O-O,Be7,f4,Bg4,Qd2,O-O,h3,Bd7,fxe5,Nxe5,Nd5,Be6,Nxf6+,Bxf6,Rf2,d5,Nc5,Nxd3,cxd3,d4,Nxe6', 'dxe3,Nxd8,exd2', 'https://lichess.org/training/R6Khi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6kzP', 'Rapid', 'UMMA', 1785, 'ozzie09', 1885, 'd4,d5,Nf3,Nc6,Nc3,Nf6,a3,e6,Bg5,h6,Bxf6,Qxf6,e3,Bd6,Bb5,Bd7,Qd2,a6,Ba4,b5,Bb3,O-O,O-O,Rfe8,e4,dxe4,Nxe4,Qf5,Nxd6,cxd6,d5,exd5,Bxd5,Re7,Rae1,Rae8,c4,bxc4,Bxc4,Qf6,Bxa6,Nb8,Bc4,Bc6,Rxe7,Rxe7,Qd4,Qg6,Bd5,Bb5,Rc1,Be2,Rc8+,Kh7,h3,Nd7,Rc6,Bf1,Nh4,Qb1,Kh2,Nf6,Nf5,Qxf5,Rxd6,Qg6,Bf3,Re6,Rd8,Ne8,Qa4,Qf6,Rxe8', 'Qe5+,Kg1,Rxe8', 'https://lichess.org/training/R6kzP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6nka', 'Blitz', 'FM Lex6699', 2450, 'FM Rivuza', 2580, 'e4,g6,d4,Bg7,Nf3,c5,c4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,O-O,Be2,d6,O-O,Nxd4,Bxd4,Bd7,h3,Qa5,Qc2,Rfc8,b3,b5,cxb5', 'e5,Bxe5,dxe5', 'https://lichess.org/training/R6nka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6p3g', 'Rapid', 'bna', 1745, 'Ezra_10', 1709, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bb4,d3,d5,exd5,Nxd5,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,O-O,O-O,Na5,Bb3,Bg4,h3,Bxf3,Qxf3,Nc6,Rfe1,Qd7,Rad1,Rfe8,Kh2,Kh8,Qxf7,Qxf7,Bxf7,Rf8,Bh5,Rxf2,Re2,Raf8,Rde1,g6,Bf3', 'R8xf3,Kg1,Rxe2', 'https://lichess.org/training/R6p3g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6pJd', 'Blitz', 'T1636-AgapovNikita-2', 1679, 'Sphinx789', 1736, 'e4,e5,Nf3,d6,Bc4,Nc6,d3,Be7,O-O,Nf6,h3,O-O,Nc3,a6,Nd5,Nxd5,Bxd5,Nd4,Nxd4,exd4,Bd2,c6,c3,cxd5,cxd4,dxe4,dxe4,Bf6,Bc3,Bd7,Qf3,Bc6,Rfe1,Re8,Qg3,g6,e5,dxe5,dxe5,Bg7,Rad1,Qe7,h4,Rad8,Rc1,Bb5,h5,Rd3,Qg4,Qc5,hxg6,fxg6,Ba5,Qe7,e6,Bxb2,Rc2,Bg7,Rc7,Qa3,Qf4,Qxa5', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/R6pJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6PNU', 'Rapid', 'Ultras_Srbija', 1604, 'Menefrath', 1667, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,h3,Bf5,Nf3,e6,O-O,Bd6,a3,Bg6,b4,Qh5,Nb5,Bf4,d3,Qh6,Qe2,Bf5,Ne5,Bxc1,Raxc1,Qg5,Qf3,Bxh3,Nxc7+,Ke7,Nxa8,Qxe5,Qxh3,Nbd7,Qf3,Ng4,Qxg4,h5,Qf3,h4,Qxb7,h3,g3,h2+,Kh1,Rb8,Qxa7,Qe2,Nb6', 'Qf3+,Kxh2,Rh8+,Kg1,Rh1#', 'https://lichess.org/training/R6PNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6pNy', 'Rapid', 'ricksels12345', 1951, 'okanozdemir', 1949, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Bf5,g3,Nb4,Na3,c5,c3,N4c6,d5,Na5,b4,cxb4,cxb4,e6,Bb5+,Nd7,bxa5,Qxa5+,Qd2', 'Bb4,O-O,Bxd2', 'https://lichess.org/training/R6pNy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r6VuJ', 'Rapid', 'svlk', 1893, 'a01a01', 1851, 'e4,e5,d4,c5,dxe5,Nc6,Bf4,Qb6,b3,Nd4,Nf3,Ne6,Be3,Ne7,Bc4,h6,O-O,Ng6,Nc3,a6,a4,Nef4,Nd5,Nxd5,exd5,Qd8,Qe2,Be7,e6,O-O,exf7+,Kh8,Qd2,d6,Bxh6,Bg4,Qd3,Nh4,Nxh4,Bxh4,Qg6,Qf6,Qxg4,Qxh6,Qd7,Qf6,Qxb7,Bxf2+,Kh1,Rab8,Qd7,Rxf7,Qh3+,Kg8,Bxa6,Re8,Rad1,Re4,Bd3,Rh4,Qc8+,Rf8,Qe6+,Rf7,Qxf6,Rxf6,Rd2', 'Rxh2+,Kxh2,Rh6#', 'https://lichess.org/training/r6VuJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6wiF', 'Rapid', 'manchesstr', 1829, 'VivekParmar', 1762, 'g3,e5,Bg2,d6,e3,c6,Ne2,Qf6,d4,exd4,exd4,Be7,O-O,Qg6,c3,h5,Nf4,Qh7,Re1,g5,Nd3,g4,Bg5,f6,Bh4,Nd7,Nf4,Nh6,Nxh5,Nf5,Nxf6+', 'Nxf6,Bxf6,Qxh2+', 'https://lichess.org/training/R6wiF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R6ymT', 'Rapid', 'marketman', 1873, 'Saparudin_THCC', 1969, 'd4,d5,Bf4,e6,e3,Nf6,Bd3,g6,Nc3,Bg7,Qe2,a6,h4,h5,Nf3,b5,Ne5,O-O,g4,Bb7,gxh5,Nxh5,Qg4,Nxf4,exf4,Nd7,h5,Nxe5,fxe5,f5,exf6,Qxf6,Rh2,Qf4,Qxe6+,Kh8,Qxg6,Rae8+,Ne2,Qh6,Qxh6+,Bxh6,a4,b4,c3,b3,Ra3,Bc6,Rxb3,Bxa4,Rb7,Bb5,Bxb5,axb5,Rxc7', 'Bf4,Rc5,Bxh2', 'https://lichess.org/training/R6ymT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R754U', 'Rapid', 'Bestrookie', 1648, 'chesstinero', 1880, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,Bg5,Be7,Nxd4,Nxd4,Qxd4,c5,Qe5,d6,Qf4,O-O,Nc3,Bd7,O-O,b5,Nxb5,Bxb5,Bxb5,a6,Bd3,Re8,e5,Nh5,Bxe7,Nxf4,Bxd8,Raxd8,exd6,Nxd3,cxd3,Rxd6,Rad1,Red8,f4,Rxd3,Rxd3,Rxd3,Re1,g6,Re8+,Kg7,Ra8,Rd6,Rc8,Rd5,Rc6,a5,Ra6,c4,a4,Rc5,Kf2,Kh6,g4,Kg7,Ke3,c3,bxc3,Rxc3+,Kd4,Rh3,Rxa5,Rxh2,Rb5,Rd2+,Kc4,Rf2,a5,Rxf4+,Kc5,Rxg4,a6,Ra4,Kb6,f5,a7,f4', 'Ra5,Rxa5,Kxa5', 'https://lichess.org/training/R754U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r75N1', 'Blitz', 'Gabrielhist', 1611, 'Rad96', 1631, 'e4,b6,Nc3,Nc6,Bc4,Bb7,Nf3,e5,O-O,Bb4,d3,Bxc3,bxc3,h6,Bxf7+,Kxf7,d4,d6,d5,Nce7,Bb2,Nf6,c4,Ng6,a4,Re8,a5,c6,axb6,axb6,dxc6,Bxc6,Rxa8,Bxa8,Qe2,Nf4,Qe3,Qd7,g3,Ne6,Rd1,Nc5,Ba3,Nfxe4,Bb2,Qf5,Nh4,Qe6,f3,Nf6,g4,Rd8,Nf5,g6,Nxh6+,Ke7,g5,Ng8,f4,Nxh6,gxh6,Qg4+,Kf1,Qg2+,Ke1,Bf3,fxe5,Bxd1,exd6+,Kd7', 'Qe7+,Kc6,Qc7#', 'https://lichess.org/training/r75N1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R76mI', 'Blitz', 'ReiseReise', 2090, 'KalEl1234', 2089, 'e4,c6,d4,d5,e5,Bf5,c4,e6,Nc3,Ne7,Nge2,Nd7,Ng3,Bg6,Be2,dxc4,Bxc4,Nb6,Bb3,Ned5,O-O,Be7,f4,O-O,f5,exf5,Nxf5,Bxf5,Rxf5,c5,Qf3,Nxc3,bxc3,cxd4,Bxf7+,Kh8,Bd2,dxc3,Bxc3,Na4,Rf1,Nxc3,Qxc3,Rc8,Qh3,Qd4+,Kh1,Qc3', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/R76mI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r784G', 'Rapid', 'yoptiloup', 1935, 'LAMATA', 1903, 'e4,d5,exd5,Nf6,d4,Nxd5,a3,e6,Bd3,Nc6,c3,Bd6,Ne2,e5,dxe5,Bxe5,O-O,O-O,Re1,Bg4,f3,Bh5,Ng3,Bxg3,hxg3,Re8,Nd2,Ne3,Qe2,Nxg2', 'Qxe8+,Qxe8,Rxe8+,Rxe8,Kxg2', 'https://lichess.org/training/r784G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R7arO', 'Rapid', 'Ksv2012', 1610, 'ElessarWebb', 1630, 'd4,d5,Nf3,Bg4,Bf4,Nd7,Nc3,c6,Ne5,Nxe5,Bxe5,Qb6,Qc1,e6,h3,Bh5,e3,f6,Bg3,Ne7,a4,a6,a5,Qd8,Bd3,Nf5,Bxf5,exf5,O-O,g5,Re1,Qd7,Ne2,Bd6,Bxd6,Qxd6,Ng3,Bg6,c4,O-O-O,cxd5,Qxd5,Qc3,Rhe8,b4,f4,exf4,gxf4,Ne2,Rg8,Rad1,f3,Nf4,Qg5,g3,Bf7,Qxf3,h5,h4,Qb5,Rb1,Rxd4,Nxh5,Bxh5,Qxf6,Rgd8,Re5,Qa4,Rxh5,Rd1+,Rxd1', 'Qxd1+,Kg2,Qxh5', 'https://lichess.org/training/R7arO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R7blC', 'Rapid', 'skripach2', 1756, 'jossanchez', 1708, 'e4,c5,f4,d6,Nf3,Nc6,a3,e5,Bc4,Bg4,O-O,h6,d3,Nd4,fxe5,Bxf3,Rxf3,Nxf3+,Qxf3,Qd7,Nc3,dxe5', 'Bb5,O-O-O,Bxd7+', 'https://lichess.org/training/R7blC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R7DDH', 'Rapid', 'nandoguariento', 1670, 'MalekTarifi', 1707, 'c4,g6,d4,Bg7,e3,d6,Nf3,c5,d5,e6,e4,exd5,exd5,Nf6,Bg5,O-O,Be2,h6,Bxf6,Bxf6,Nc3,Bg4,O-O,Re8,h3,Bf5,Bd3,Qd7,Re1,Na6,a3,Nc7,Bxf5,Qxf5,g4,Qf4,Kg2,Qxc4,Nd2,Qf4,Re4,Qg5,f4,Qh4,Qf3,Bxc3,bxc3,Rxe4,Nxe4,Qe7,Re1,Re8,h4,f5,gxf5,gxf5,Qg3+,Kh7,Ng5+,hxg5,Rxe7+,Rxe7,Qxg5', 'Rg7,Kf3,Rxg5', 'https://lichess.org/training/R7DDH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R7EzC', 'Rapid', 'Usub', 1830, 'aruo', 1837, 'd4,Nf6,Bf4,d6,h3,Nbd7,Nf3,c6,e3,g6,Be2,Bg7,O-O,O-O,c3,Re8,Nbd2,e5,dxe5,dxe5,Bh2,b6,Qb3,Qe7,a4,Nc5,Qc2,Bf5,Qd1,Nfe4,Nxe4,Bxe4,Ra3,Rad8,Qc1,Nd3,Bxd3,Bxd3,Rd1,c5,Ne1,Be2,Rd2,Bc4,b3,Rxd2,Qxd2,Rd8,Qc2,Be6,Ra1,Bf5,e4,Be6,Nf3,f6,Rd1,Bh6,c4,Kf7,Kf1,Rd6,Bg3,Qd7,Ke1,Ke7,Ke2,a6,Rxd6,Qxd6,Qd3,Bc1,Qxd6+,Kxd6,Kd3,b5,axb5,axb5,cxb5,Bxb3,Kc3,Ba4,b6,Kc6,Nh2,Kxb6,Ng4,Ba3,Nxf6,Bb4+,Kd3,Bb5+,Kc2,Bf1,Nxh7,c4,Nf6,Bd3+,Kb2', 'c3+,Kb3,c2', 'https://lichess.org/training/R7EzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R7fhe', 'Blitz', 'wailmohamed', 1768, 'Babvinnik', 1784, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,c3,d6,Re1,O-O,d4,Bg4,h3,Bh5,Be3,Re8,d5,Na5,Bc2,Rc8,Nbd2,c6,g4,Nxg4,hxg4,Bxg4,Kg2,cxd5,exd5,Nc4,Nxc4,Rxc4,Rh1,e4,b3,Rxc3,Bxe4,Bf6,Rxh7,Rxe4,Qh1,g6,Ng5,Rcxe3,Rh8+,Bxh8', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/R7fhe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R7JNs', 'Classical', 'MChessplayer123', 1645, 'bonano80', 1640, 'e4,e5,Nf3,d6,d4,Nd7,Be2,h6,O-O,g5,dxe5,dxe5,c4,g4,Nfd2,h5,Nc3,c6,Nb3,Be7,Be3,Ngf6,Qd2,h4,Rad1,b6,f4,Qc7,fxe5,Nxe5,Nd4,Bd7,Nf5,Bxf5,Rxf5,Ned7,Bf4,Qb7,e5,Nh5,Bxg4,Nxf4,Rxf4,O-O-O,Ne4,Kb8,Nd6,Qc7,Rxf7', 'Nxe5,Rxe7,Qxe7', 'https://lichess.org/training/R7JNs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R7jv0', 'Rapid', 'Mehafujchess111', 2054, 'Scnst2000', 2126, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h6,h5,Bh7,e6,fxe6,Bd3,Nf6,Bxh7,Nxh7,Qd3,Qd6,Qg6+,Kd8,f4,Nf6,Nf3,Nbd7,Ne5,Qb4+,c3,Qb5,Nf7+,Kc7,Nxh8,Ne4,Nd2,Qd3,Nxe4,dxe4,Rg1,Qf3,Qxe6,Nf6,Bd2,Nd5,c4,e3,cxd5', 'Qf2+,Kd1,Qxd2#', 'https://lichess.org/training/R7jv0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r7lx3', 'Blitz', 'MostafaMVL', 2134, 'Tzonunsanga', 2140, 'd4,d5,Nf3,Nc6,g3,Nf6,Bg2,Bg4,O-O,e6,Bg5,Be7,Nbd2,O-O,c3,h6,Bxf6,Bxf6,e4,dxe4,Nxe4,Bf5,Re1,Bxe4,Rxe4,Ne7,Qb3,Rb8,Rd1,c6,a4,Qa5,Ne5,Bxe5,Rxe5,Qc7,Qb4,Ng6,Ree1,Rfd8,Be4,Ne7,Bc2,Nd5,Qc4,Qe7,Qd3,g6,Qe4,Kg7,h4,h5,Kg2,Nf6,Qf3,Rd5,Bb3,Rf5,Qe2,Rd8,Bc2,Rfd5,Bb3,Rf5,Bc2,Rfd5,Be4,Nxe4,Qxe4,Qd6,b4,a5,Rb1,Rd7,Kh2,axb4,Rxb4,b5,Reb1,bxa4,Rxa4,c5,dxc5,Qxc5,Qf3,Rd2,Rf4,R2d3,Qe2,Qxc3,Rf1,Rd2,Qe4,Qb2,Qa4,Qe5,Re4,Qf5,Qa1+,Kh7,Rf4,Qc5,Qf6,Qa7,Qg5,Re2,g4,Rdd2,Qf6,Qc7,Kh3,Rd3+,Kh2,Re4,Qxf7+,Qxf7,Rxf7+,Kg8,Rf6,Rxg4,Rxe6,Rxh4+,Kg1,Rg4+,Kh2,Kf7,Re3,Rd2,Kh3,Rf4,Kg3,g5,Re5,Kf6,Ra5,h4+,Kg2,Kg6,Ra6+,Kh5,Ra8,Kg4,Ra3,Rb2,Re3,Kh5,Ra3,Rf5,Re3,g4,Kg1,h3,Ra3,Kh4,Ra8,Rc2,Rh8+,Kg5,Rg8+,Kf4,Ra8,Rc3,Ra4+,Kf3,Re1,g3,fxg3,Kxg3,Ra8,Rg5,Rae8,Kh4+,Kh2,Rg2+,Kh1,Rg4,Rh8+,Kg3', 'Rg1+,Kf4,Rf8+,Kg5,Rg8+', 'https://lichess.org/training/r7lx3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R7M3q', 'Blitz', 'FM Super_FM', 2383, 'Vladfx3', 2452, 'Nf3,d5,d4,e6,c4,Nf6,Nc3,Bb4,cxd5,exd5,Bg5,c5,e3,h6,Bh4,Nc6,Be2,cxd4,Nxd4,Bxc3+,bxc3,Qa5,Bxf6,Qxc3+,Kf1,gxf6,Rc1,Qa5,Bb5,O-O,Nxc6', 'Qxb5+,Kg1,bxc6', 'https://lichess.org/training/R7M3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r7Myc', 'Rapid', 'abdullah_ali', 1909, 'antonior', 1798, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Bd3,Ne4,Bxe7,Qxe7,O-O,O-O,Re1,f5,Nfd2,Qh4,Qf3,c6,c4,Be6,b3,Nd7,c5,Rf6,Nf1,Raf8,Nbd2,g5,g3,Qh3,Qg2,Qh6,f3,Nxd2,Nxd2,f4,gxf4,Rxf4,Re3,Bh3,Qg3,Nf6,Re5,Ng4,fxg4,Rxg4,Rae1,Rxg3+,hxg3,Bd7,Re7,Rf7,R7e5,Qh5,Be2,Qg6,Nf3,h6,Re3,Qf6,Rf1,Qd8,Rd1,Qa5,Ne5,Rg7,Bh5,Qxa2,Nxd7,Rxd7,Rf1,Qd2,Re8+,Kg7,Re6,Qxd4+,Kh1,Qd3,Rg6+,Kh7,Rgf6,Qxg3,Bg6+,Kg7,Bf5,Qh4+,Kg2,g4,Bxd7,Qh3+,Kg1,Qg3+,Kh1,Qxb3,Bxg4,Qd3,Bh3,h5,R6f5,Qxh3+,Kg1,Qg3+,Kh1,Qd3,Rg1+,Kh7', 'Rxh5#', 'https://lichess.org/training/r7Myc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r7NW3', 'Rapid', 'PabloDangelo', 2216, 'Partizan1', 2203, 'd4,d5,Bf4,Nf6,e3,Nbd7,c3,e6,Bd3,Bd6,Nf3,Bxf4,exf4,c5,Nbd2,cxd4,Nxd4,a6,N2f3,Nc5,Bc2,Qc7,Ne5,g5,Qe2,gxf4,O-O-O,Nce4,Nd3,Bd7,f3,Nc5,Nxc5,Qxc5,Qe5,Qe7,Rhe1,Rg8,Nf5,Qd8,Qxf4,Kf8,Qd6+,Ke8,Qb4,a5,Qc5,b6,Qa3,Bc6,Nd6+,Kd7,Nxf7,Qe7,Ne5+,Ke8,Qxe7+,Kxe7,Nxc6+,Kd6,Nd4,e5,Nf5+,Ke6,Ng3,h5,Bf5+,Kd6,Ne4+,Nxe4,fxe4,Rxg2,Rxd5+,Kc6,h3,a4,Red1,a3,Rd6+,Kc7,Rd7+,Kc6,R1d6+,Kb5,Rd5+,Kc6,R5d6+,Kb5,b4,Rxa2,Rd5+,Kc4,Rd2,Ra1+,Kc2,Ra2+,Kd1,Ra1+,Ke2,Kxc3,Rc7+,Kxb4,Be6,a2,Rb7', 'Re1+,Kxe1,a1=Q+', 'https://lichess.org/training/r7NW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r7OAb', 'Rapid', 'scherenaxt', 1947, 'andre55561', 2041, 'e4,e5,d4,exd4,c3,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nc6,cxd4,O-O-O,Nc3,Qd7,Be3,Nf6,h3,Be6,O-O,Nd5,Nxd5,Bxd5,Rc1,Kb8,a3,f6,b4,Bd6,Qa4,Ne7,Bb5,c6,Be2,g5,Ne1,h5,Nd3,g4,h4,Nf5,g3,Nxe3,fxe3,Bxg3,Rxf6,Bxh4,Ne5,Bxf6,Nxd7+,Rxd7,b5,Bg5,Rc3,Re7,bxc6,Bxc6,Rxc6,bxc6,Qxc6,Bxe3+,Kh1,Rhe8,Bf1,Bxd4', 'Qd6+,Rc7,Qxd4', 'https://lichess.org/training/r7OAb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r7pVd', 'Rapid', 'chessm4ster420', 1782, 'Gocharov', 1885, 'd4,d5,Nf3,Nf6,c4,c6,e3,Bf5,Nc3,e6,cxd5,exd5,Bd3,Bxd3,Qxd3,h6,O-O,Bd6,Re1,O-O,h3,Nbd7,b3,Re8,Bb2,Ne4,Nd2,Ndf6,Ncxe4,Nxe4,Rac1,Qh4,Nxe4,Rxe4,a4,Rae8,b4,a6,b5,axb5,axb5,R8e6,bxc6,Bc7,cxb7,Rb6,Rxc7,Rxb2,Rc8+,Kh7,b8=Q', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/r7pVd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r7PWu', 'Rapid', 'groundmaster', 1768, 'parviz1340', 1743, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,a6,O-O,Nge7,Ng5,d5,Nxd5,O-O,Nf6+,gxf6,Nf3,Ng6,h3,b5,Bd5,Bb7,c3,Bb6,d4,Na5,Bxb7,Nxb7,d5,Nd6,Qe2,Kh8,Be3,Rb8,Nd2,Rg8,f4,exf4,Bxb6,Rxb6,Rf2,Qd7,Kh2,Ne8,Raf1,Qd6,Nf3,Ng7,Kh1,Nh5,Qd3,Ng3+,Kg1,Nxf1,Kxf1,Ne5,Qe2,Rg3,Nh4,Nd3,Nf5,Qe5,Rf3,Rxf3+,gxf3,Nc5', 'Qg2,Qxf5,exf5', 'https://lichess.org/training/r7PWu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r7QnK', 'Rapid', 'Chillkroete77', 2225, 'Talaris', 2369, 'd4,d5,Nc3,Nf6,Bf4,e6,e3,Bd6,Bd3,O-O,Nge2,c5,dxc5,Bxc5,Nb5,Nc6,c3,e5,Bg3,a6,Na3,Bg4,h3,Bh5,O-O,b5,Nb1,Re8,Nd2,e4,Bc2,Ne5,Nb3,Bd6,Bxe5,Rxe5,Qd2,Qe7,Nf4,Rg5,Nxh5,Rxh5,f4,exf3,Rxf3,Re8,Raf1,Qe5,Rf4,Qxe3+,Qxe3,Rxe3,R4f3,Rhe5,Rxe3,Rxe3,Kf2,Re7,Rd1,Kf8,Kf3,Re5,Nd4,Rg5,Nf5,Bc7,h4,Rg4,Rxd5', 'Rf4+,Ke2,Nxd5', 'https://lichess.org/training/r7QnK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r7sWS', 'Blitz', 'fog_ayaan', 1827, 'RahulRT28', 1812, 'd4,Nf6,Bf4,e5,dxe5,Nh5,Bg3,Nxg3,hxg3,Nc6,Nf3,Bc5,Nc3,Qe7,Nd5,Qd8,e3,b6,Bc4,Bb7,Qd3,Nb4,Nxb4,Bxf3,gxf3,Bxb4+,c3,Bc5,O-O-O,Qe7,f4,O-O-O,Rxh7,g6,Rxh8,Rxh8,Qe4,c6,Ba6+,Kb8,b4,f5,Qd3,Bxb4,cxb4,Qxb4,Qxd7,Qa3+,Kc2,Qxa2+,Kc3,Qa3+,Kc4,Qxa6+,Kc3,Qa5+,Kb3,Qb5+,Kc3,Qc5+,Kb2,Qb4+,Kc2,Qa4+,Kb1,Qb3+,Kc1,Qa3+,Kc2,Qa4+,Kb2,Qb5+,Kc1,Qc5+,Kb2,Qb4+,Kc1,a5,Qxc6,Qa3+,Kb1', 'Qb3+,Kc1,Rc8,Qxc8+,Kxc8', 'https://lichess.org/training/r7sWS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r7UPp', 'Rapid', 'caballito21', 1946, 'majid350', 1809, 'e4,c5,Bc4,Nf6,e5,d5,Bb5+,Bd7,exf6,Bxb5,fxg7,Bxg7,d3,Na6,Nf3,Qa5+,Nfd2,c4,O-O,cxd3,c3,Qb6,Qg4,Qf6,Nb3,d2,N1xd2,h5,Qf3,Bxf1,Kxf1,Qe5,Nd4,Bf6,h3,Nc7,N2b3,Qh2', 'Bf4,Qh1+,Ke2,Qxa1,Nxa1', 'https://lichess.org/training/r7UPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R7XgJ', 'Classical', 'Vladimir8444', 1876, 'slon11', 1875, 'e4,e5,Nf3,Nc6,Nc3,d6,d3,Bg4,Be2,Nd4,Nxd4,Bxe2,Qxe2,exd4,Nd1,c5,c3,dxc3,Nxc3,Nf6,Bg5,Be7,O-O,Nd7,Bxe7,Qxe7,Nd5,Qd8,f4,O-O,Rf2,Nb6,Nc3,Qd7,f5,f6,Qh5,a6,Rf3,Qf7,Qh4,Rad8,Rh3,h6,Qg4,Kh8,Ne2,Kh7,Nf4,Rg8,Ne6,Rc8,Qh4,Nd7,g4,Nf8,g5,Nxe6', 'g6+,Qxg6+,fxg6+', 'https://lichess.org/training/R7XgJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r7xjn', 'Blitz', 'ashraf2000', 2133, 'true_Kotenka', 1953, 'd4,Nf6,c4,g6,Nc3,d6,e4,Bg7,Be2,O-O,Nf3,c5,d5,Nbd7,O-O,Ng4,Bf4,f5,exf5,Rxf5,Bg3,Nge5,Nh4,Rf8,f4,Nf7,f5,g5,Nf3,h6,Qc2,Nde5,Nxe5,Nxe5,Bh5,Nxc4,Rae1,Bd4+,Kh1,Ne3,Rxe3,Bxe3,Ne4,Bxf5,Qc4,Bxe4,Re1,Bd4,Rxe4,b5,Qe2,Bf6,Bg4,Qa5,Be6+,Kg7,a3,c4,h3,Qb6,Qg4,a5,h4,b4,a4,c3,bxc3,bxc3,h5,c2,Re1,Qb2,Qc4,Qc3,Qe4,c1=Q', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/r7xjn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R81Ui', 'Blitz', 'DarkAnarchist', 1555, 'MgrZ', 1616, 'd4,d5,c4,Bg4,Nf3,Nf6,e3,e6,cxd5,Nxd5,h3,Bh5,Be2,Be7,Nc3,O-O,Nxd5,exd5,O-O,Nc6,Re1,Bd6,Nd2,Bxe2,Qxe2,Qh4,Nf3,Qf6,b3,Ne7,Qb5,b6,a4,Ng6,Ba3,Bxa3,Rxa3,c6,Qd3,Nh4,Nxh4,Qxh4,b4,f5,a5,f4,axb6,f3,Rxa7,Rxa7,bxa7,fxg2,Kxg2,Qxf2+,Kh1,Qxe1+,Kh2,Qf2+,Kh1,Qf3+,Kh2,Qf2+,Kh1,Qe1+,Kh2,Rf2+,Kg3,Qg1+,Kh4,Rf8,Qf5,Qe1+,Kg4,Qg1+,Kh4,Rxf5,a8=Q+,Kf7,Qb7+,Kg6,Qxc6+,Rf6,Qe8+,Kf5', 'Qe5+,Kg6,Qh5#', 'https://lichess.org/training/R81Ui');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r8C23', 'Rapid', 'Speedo6', 1803, 'novicepatzer', 1836, 'g4,d6,Bg2,Nc6,c4,Bxg4,Nc3,Nf6,Qb3,Rb8,d3,Nd4,Qa4+,Bd7,Qd1,c6,Nf3,e5,O-O,Be7,e3,Nxf3+,Bxf3,h5,Qe2,g5,d4,g4,Bg2,exd4,exd4,Kf8,Be3,h4,Bh1,g3,fxg3,hxg3,hxg3,Bg4,Bf3,Qd7,Bf4,Re8,Qf2,Bxf3,Qxf3,Ng4,Ne4,Nh2', 'Bh6+,Kg8,Qxf7#', 'https://lichess.org/training/r8C23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R8CsH', 'Classical', 'SKAKI-GSF', 1882, 'MrsLucifer', 1854, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,O-O,O-O,h6,Bh4,Na5,Bb3,Nxb3,axb3,a6,Nc3,c6,Nxe5,Qc7,d4,Bd6,Nd3,Bxh2+,Kh1,d5,g3,dxe4,Bxf6,gxf6,Kxh2,exd3,Qxd3,Kh8,Kg2,Rg8,Rh1,Rg6,Qe3,Kh7,Qe8,b5,Rae1,c5,Re7,Bb7+,Kf1', 'Rxe8,Rxc7,Bxh1', 'https://lichess.org/training/R8CsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R8DxI', 'Blitz', 'luki__1992', 1571, 'carlsen125', 1515, 'e4,e5,c4,Bc5,Nf3,Nf6,d3,O-O,Nxe5,d6,Nf3,Bg4,Be2,Nc6,O-O,Nd4,Nxd4,Bxe2,Nxe2,a6,a3,h6,d4,Ba7,Nbc3,c5,d5,b5,cxb5,axb5,Nxb5,Bb6,Ng3,Ra5,a4,Nd7,Nxd6,Ra6,Qg4,Ba5,Bxh6,g6,Bxf8,Kxf8,Nb7,Qc7,Nxa5,Rxa5,Rfc1,Ne5,Qe2,Qd6,Qd2,Qb6,Rc2,Ng4,Rac1,Rxa4,Rxc5,Ra2,Rc8+,Kg7,Qc3+,Kh7,Rc4,Qxf2+,Kh1,Rxb2,Rc2,Rxc2,Qxc2', 'Qe1+,Nf1,Qxf1#', 'https://lichess.org/training/R8DxI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R8Hdu', 'Rapid', 'Palkopan', 1723, 'Hamsterkauf25', 1696, 'e4,e5,d3,Nc6,Nf3,Bc5,Qe2,Nf6,Be3,Bxe3,Qxe3,d5,exd5,Nxd5,Qd2,O-O,Nc3,Re8,Be2,Nxc3,Qxc3,Bg4,O-O,e4,dxe4,Rxe4,Rad1,Qe7,Rfe1', 'Rxe2,Rxe2,Qxe2', 'https://lichess.org/training/R8Hdu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r8IgO', 'Blitz', 'enkhbold777', 1606, 'mpb202', 1648, 'e4,e5,Bd3,Nf6,c4,Bc5,h3,Nc6,Nf3,O-O,Nc3,d6,b3,a6,Bb2,Be6,Qe2,Nd4,Nxd4,Bxd4,Bc2,Qd7,Na4,b5,Bxd4,bxa4,Bc3,axb3,axb3,Qc6,O-O,Rfb8,b4,Bxc4,d3,Bb5,Qf3,Qxc3,Rac1,Qxb4,Bb1,Qd4,Ba2,c5,Rcd1,a5,Kh2,a4,g4,Bd7,g5,Ne8', 'Qxf7+,Kh8,Qf8#', 'https://lichess.org/training/r8IgO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R8ksU', 'Rapid', 'macnov', 1871, 'dominikwasiluk', 1831, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Bf5,Nf3,e6,e3,Nbd7,Be2,Be7,O-O,O-O,Bd3,Bg6,Bxg6,fxg6,a3,dxc4,Qe2,b5,a4,a6,Ne5,Nxe5,dxe5,Nd5,Bxe7,Qxe7,Nxd5,cxd5,Rfd1,Rf5,axb5,Rxe5,bxa6,Rf5,Ra2,Rff8,Rda1,Rfb8,Qd2,Rb6,Qd4,Qd6,a7,Rb7,h3,Qe7,Ra6,Kf7,R1a2,Qf6,Qc5,Qe7,Qc6,Raxa7,Qa4,Rxa6,Qxa6,Rd7,Qb6,Qd6,Qa5,Qc7,Qc3,Qd6,Ra3,Qe7,Qd4,Qf6,Qb6,e5,Qb5,Qe6,Ra6,Qe7,Rb6,h6,Qc6,g5,Qg6+,Kf8,Qf5+,Qf7', 'Rb8+,Ke7,Qxe5+', 'https://lichess.org/training/R8ksU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r8PsS', 'Classical', 'radek40', 1720, 'Lubomir56', 1725, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,Bxc5,Bd3,Qe7+,Nge2,Bg4,O-O,Nf6,Bg5,Nbd7,Qd2,O-O,Nxd5,Qd6,Nxf6+,Nxf6,a3,Qb6,b4,Be7,Be3,Qc6,c4,Rad8,Qc2,Bh5,Rfe1,Ng4,Bf4,Bg6,Bxg6,fxg6,h3,Nxf2,Bg3,Ne4,Bh2,Rd2,Qb3,Qe6,Nf4,Qf7,Rxe4,g5,Rf1,gxf4,Rexf4,Bf6,Qe3', 'Bd4,Qxd4,Rxd4,Rxf7,Rxf7', 'https://lichess.org/training/r8PsS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r8rcs', 'Blitz', 'Lord_axe', 2109, 'CM Alejandropacheco29', 2412, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nf3,Be7,Bc4,h6,O-O,O-O,Re1,Be6,Nd5,Nc6,Nxe7+,Qxe7,Bxe6,fxe6,c3,Rfe8,Qb3,d5,exd5,exd5,Be3,Qf7,Rad1,Rad8,Bc1,b5,a4,Na5,Qc2,e4,Nd4,Nc4,axb5,axb5,b3,Ne5,Nxb5,Qg6,Bf4,Nf3+,Kf1,Nxe1,Rxe1,Nh5,Bh2,Rf8,Nd4,Nf4,Bxf4,Rxf4,c4,dxc4,Qxc4+,Kh7', 'Ne6,Rxf2+,Kxf2', 'https://lichess.org/training/r8rcs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r8sIf', 'Blitz', 'FastMate', 2038, 'yolochesss', 2104, 'e4,d6,Nf3,Nf6,Nc3,e5,d4,Nbd7,dxe5,dxe5,Bc4,Be7,O-O,O-O,h3,c6,a4,a5,Be3,Qc7,Qe2,h6,Rfd1,Re8,Rd2,Bf8,Rad1,Nc5,Bxc5,Bxc5,Na2,Bd7,c3,Rad8,b4,axb4,cxb4,Bf8,b5,Bc5,Nh4,Bc8,Nf5,Rxd2,Rxd2,Rd8,Nc1,Rxd2,Qxd2,Nxe4,Nxh6+,gxh6,Qxh6,Qd6,Qh5,Nxf2', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/r8sIf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R8sn9', 'Blitz', 'mikhail-o-rei', 1719, 'NNPC', 1684, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Nxe5,Nxe5,d4,Ng6,e5,Ng8,f4,c5,f5,N6e7,Bg5,f6,exf6,Nxf6,d5,d6,Bd3,Bxf5,Bxf5,Nxf5,O-O,Ne7,Bxf6,gxf6,Qh5+,Ng6,Rae1+,Kd7,Qf5+,Kc7,Nb5+,Kb8,Qxf6,Qxf6', 'Re8+,Qd8,Rxd8#', 'https://lichess.org/training/R8sn9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R8TUH', 'Rapid', 'youneverknowwhat', 1794, 'hilares', 1800, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bf5,c4,e6,cxd5,Qxd5,Nc3,Qa5,Bd2,Bb4,Bb5+,Nc6,Bxc6+,bxc6,O-O,Ne7,a3,Bxc3,Bxc3,Qc7,Ne5,Nd5,Qa4,O-O,Qxc6,Qd8,Qb5,Qg5,Rac1,Rfb8,Qe2,Nf4,Qf3,f6,Nd7,Rd8,Nc5,Bg4,Qg3,Ne2+,Kh1,Nxg3+,hxg3,Qh6+,Kg1,Be2,Rfe1,Bc4,Rcd1,f5,b3,Bd5,b4,Re8,Bd2,Qh5,Nd3,Qg4,Nf4,Bb3,Rb1,Bc4,Rbc1,Rac8,Nh3,Qxd4,Be3,Qd3,Red1,Qxa3,Bd2,Red8,Ra1,Qb3,Rab1,Qc2,Rbc1,Qe4,Re1,Qg4,Rcd1,Be2,Rc1,Rxd2,Rxc8+,Kf7,Rc7+,Kg6,Nf4+,Kg5', 'Rxg7+,Kf6,Rxg4', 'https://lichess.org/training/R8TUH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r8uy6', 'Rapid', 'virtuosarmo', 2120, 'D-S-D', 2256, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,h3,d6,c3,Bb7,d3,h6,Nbd2,Nb8,a4,Nbd7,Nf1,Nc5,Bc2,bxa4,Bxa4,Nxa4,Qxa4,Rb8,b4,Re8,Ng3,Bf8,Nf5,Kh7,Qa2,Qd7,Qd2,Ng8,c4,g6,Ne3,f5,exf5,gxf5,Nd5,Qg7,Bb2,Bc8,Kh2,Nf6,Nxf6+,Qxf6,d4,e4,d5,Qf7,Nd4,Bg7,Nc6,Ra8,Bxg7,Qxg7,Qf4,Rg8,Rg1,Bd7,Ra3,Bxc6,Qxf5+,Kh8,dxc6,Raf8,Qxe4,Rxf2,Rxa6,Rb2,b5,Rb3,Raa1', 'Qg3+,Kh1,Qxh3+,gxh3,Rxh3#', 'https://lichess.org/training/r8uy6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R8WPu', 'Rapid', 'MTHEMBU', 1994, 'AlbertDr', 1851, 'e4,c5,Nf3,Nc6,c3,g6,d4,cxd4,cxd4,d6,d5,Ne5,Nxe5,dxe5,Nc3,Bg7,Qa4+,Bd7,Bb5,Nf6,O-O,O-O,Bg5,Bxb5,Qxb5,Qc7,Rac1,a6,Qb4,Qd7,Na4,a5,Qb3,Nxe4,Be3,Rad8,Rfd1,b5,Nb6,Qb7,Qxb5,Nd6,Qxa5,Nf5,Qc5,Nxe3,fxe3,Bh6,a4,Qa6,b4,Qe2,Re1,Qd2,a5,Bxe3+,Rxe3,e6,Rxe5,Rxd5,Rxd5,exd5,a6,Re8,Qc3', 'Re1+,Rxe1,Qxc3', 'https://lichess.org/training/R8WPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r8yDi', 'Rapid', 'phantom355', 1804, 'igrok100', 1702, 'f4,g6,Nf3,Bg7,e4,Nf6,d3,O-O,Be2,Nc6,e5,Nd5,c3,d6,d4,dxe5,fxe5,Bf5,O-O,f6,Qb3,Kh8,Bd2,Rb8,c4,Nb6,exf6,Bxf6,d5,Bd4+,Kh1,Ne5,Nxd4,Nbxc4,Bxc4,Be4,Nc3,Bf5,Nxf5,gxf5,Bf4,Ng4,h3,Nf6,Be5,Rg8,Rxf5,Qd7,Raf1,Rbf8,R5f2,h5,Nb5,Kh7,Bd3+,Kh6,Bf4+,Kg7,Nxc7,Ng4,Ne6+,Kh8,Qc3+,Rf6,Rf3,Qxd5,Bc4,Qf5,Bh2,Qg6,g3,Nxh2,Kxh2,h4,g4,Rc8,Rxf6,exf6,Qd3,Qf7,Bb3,Qe7,Qg6,Qd6+,Nf4,Qd2+,Kg1,Qe3+,Rf2', 'Rc1+,Bd1,Rxd1+,Kg2,Qg3#', 'https://lichess.org/training/r8yDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r90lM', 'Rapid', 'Chkalovec1936', 1749, 'darietta49', 1738, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Ng4,Nxf7,Kxf7,Qf3+,Ke8,b4,Bxb4,Bb2,Rf8,Qe4,Qf6,O-O,Bc5,Bxe5,Bxf2+,Rxf2,Qxf2+,Kh1,Nxe5,Qxe5+,Kd7,Nc3,Re8,Bf5+,Kd8', 'Qd6+,Bd7,Qxd7#', 'https://lichess.org/training/r90lM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r94m0', 'Rapid', 'Un_Tal', 1673, 'Sajjad312', 1688, 'e4,b6,d4,Bb7,Nc3,Nf6,e5,Nd5,Bd2,g6,Bc4', 'Nxc3,Bxc3,Bxg2,Qg4,Bxh1', 'https://lichess.org/training/r94m0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R96Ay', 'Classical', 'Alexkozyrev', 1897, 'drunkenhigh', 1997, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,h6,Nf3,e4,Ne5,Qd5,d4,exd3,O-O,Qxe5,Re1,Ne4,f3,Qd4+,Kh1,f5,cxd3,Bc5,dxe4,Qxd1,exf5+,Kf7,Rxd1,Bxf5,Nc3,Rad8,Rxd8,Rxd8,Bf4,Bd6,Bxd6,Rxd6,h3,Rd2,b4,Rd3,Rc1,Nc4,Bxc6,Ne3,Bb5,Rd2,Re1,Nxg2,Bc4+,Kf6,Ne4+,Bxe4,Rxe4,g5,Re6+,Kg7,Re7+,Kg6,Rxa7,Nf4,Bf7+,Kf6,a4,Nxh3,Be8,Nf4,Bc6,h5,Ra6,Ke5,b5,Nd3,b6,Kf4,b7,Rb2,Bb5,Kxf3,b8=Q,Rb1+,Kh2,Rb2+,Kh3,Nf4+,Qxf4+,Kxf4,Bd7', 'g4+,Bxg4,hxg4+,Kh4,Rh2#', 'https://lichess.org/training/R96Ay');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r9byt', 'Classical', 'MuchoLucho', 1915, 'GrandMisterMP', 2050, 'e4,d5,e5,c5,c3,Nc6,d4,Bf5,Bd3,Bg6,f4,e6,Nf3,cxd4,cxd4,Nge7,Bd2,Nf5,Bb5,Qb6,Qa4,Be7', 'Ba5,O-O,Bxb6', 'https://lichess.org/training/r9byt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R9cAW', 'Rapid', 'Gokuhu', 1675, 'Rastacoco', 1786, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nf6,Ne5,Bh7,Bd3,Qxd4,Nxf7,Kxf7', 'Bg6+,Bxg6,Qxd4', 'https://lichess.org/training/R9cAW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R9DT8', 'Rapid', 'Putry', 1943, 'hyper_nova', 1888, 'e4,e5,Qh5,Nc6,Bc4,Qf6,Nf3,g6,Qg5,Be7,Qg3,d6,d3,Be6,Nc3,Bxc4,dxc4,Qe6,Nd5,Nf6', 'Nxc7+,Kd7,Nxe6', 'https://lichess.org/training/R9DT8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r9DVa', 'Bullet', 'davadjuno', 2099, 'Neoslick', 2223, 'e4,g6,d4,Nf6,Nc3,c5,Nf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,Bg7,O-O,O-O,Kh1,d6,f4,Qc7,f5,Rb8,Rb1,Nd7,Bg5,Nf6,Qd2,e6,Bh6,exf5,Bxg7,Kxg7,exf5,d5,b3,c5,fxg6,fxg6,Rxf6,Rxf6,Nxd5,Qd6,Nxf6,Qxf6,Rf1,Qe5,Qa5,Rb7,Ba6,Rf7,Rxf7+,Kxf7,Bxc8', 'Qa1+,Qe1,Qxe1#', 'https://lichess.org/training/r9DVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R9HBk', 'Blitz', 'Zlaja2020', 2342, 'FM JustoTriana', 2345, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,d6,Nb3,Nf6,Bd3,Be7,f4,O-O,Qf3,Qc7,Be3,a6,O-O,b5,Rad1,Bb7,Kh1,Rac8,Qg3,Rfe8,Nd4,Nb4,a3,Nxd3,cxd3,d5,e5,Nh5,Qf2,g6,Nde2,d4,Bxd4,Ng7,Ne4,Nf5,Bb6,Qc6,Rg1,Bh4,g3,Qxe4+', 'dxe4,Bxe4+,Rg2', 'https://lichess.org/training/R9HBk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r9iDi', 'Blitz', 'NM Serog1sPerog1s', 2517, 'GM ciudadajedrezescolar', 2696, 'e4,d6,d4,g6,Nf3,Bg7,Bd3,Nf6,c3,O-O,h3,Nc6,O-O,e5,d5,Ne7,Nbd2,c6,c4,Nh5,Re1,Nf4,Nf1,cxd5,cxd5,Nxd3,Qxd3,h6,Ng3,f5,Bd2,Kh8,exf5,gxf5,Nh4,e4,Nxe4,fxe4,Qxe4,Rf7,Qxe7,Rxe7,Rxe7,Bf6,Ng6+,Kg8,Re3,Bf5,Nf4,Be5,Rg3+,Kf7,Re1,Qh4,Rf3,Ke7,g4,Rg8,Ng2,Bxg4', 'Nxh4,Bxf3+,Kf1', 'https://lichess.org/training/r9iDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R9MFw', 'Rapid', 'grimus', 1608, 'timschnittke', 1784, 'f4,d5,d4,Nc6,g3,Bg4,Bg2,Nf6,Nf3,Qd7,e3,Bh3,O-O,Bxg2,Kxg2,h5,c3,O-O-O,a3,Qg4,b4,h4,Nxh4', 'Rxh4,Qxg4+,Rxg4', 'https://lichess.org/training/R9MFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r9Otk', 'Rapid', 'DelDongo', 1909, 'dorhinj1', 1889, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Ng3,Bc5,d3,Bg4,h3,Bxf3,Qxf3+,Kg8,Qg4,Nd4,O-O,Nxc2,Bh6,Qf6,Nf5,Bf8,Rac1,Nd4,Nxd4,Qxh6,Nf5,Qg6,Rxc7,Qxg4,hxg4,g6,Ne3,d4,Nd5,Bg7,f4,Rd8,Ne7+,Kf8,fxe5+,Ke8,Rxb7,Rd7,Rb8+,Kxe7,Rb5,Rf8,Re1,Rc7,b4,Ke6,Ra5,h5,Ra6+,Kd5', 'Rd6#', 'https://lichess.org/training/r9Otk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r9qDY', 'Rapid', 'QueenofChess3', 1924, 'Hokusai58', 1781, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,O-O,exd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,Bg5,Be7,Re1,Qe6,e5,dxe5,Rxe5,Qd6,Qxd6,cxd6,Re1,Rc8,Nc3,Rc5,Bxf6,gxf6,Ne4,Re5,f4,Re6,Rad1,O-O,Rd3,f5,Rg3+,Kh8,Rge3,fxe4,Rxe4,Rxe4,Rxe4,Bd8,Rb4,b6,Rc4,Kg7,Rc6,d5,Rd6,d4,Rxd4,b5,Rd7,a5,Rd5,b4,c4,bxc3,bxc3,Re8,c4,a4,Kf2,Kf6,c5,Ke6', 'Re5+,Kd7,c6+,Kxc6,Rxe8', 'https://lichess.org/training/r9qDY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r9sly', 'Rapid', 'petrovich41', 1656, 'draganso', 1604, 'e4,c5,Bc4,e6,Nc3,Bd6,Nb5,Qb6,Qg4,Nf6,Qxg7,Rg8,Qxf6,Rxg2,d3,a6,Nxd6+,Qxd6,Bf4,Qb6,Qh8+,Ke7,Qxc8,Qxb2,Qxc5+,Kf6,Be5+,Qxe5,Qxe5+,Kxe5,Nf3+,Kd6,a4,Nc6,O-O-O,Rag8,d4,Rxf2,e5+,Kc7,Nd2,Nxd4,Ne4', 'Rxc2+,Kb1,Rxc4', 'https://lichess.org/training/r9sly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r9stH', 'Rapid', 'wowker', 1864, 'bib27', 1932, 'e4,d6,d4,e6,Be3,Nd7,Nf3,h6,Bc4,Ngf6,Nbd2,Be7,e5,Nh7,O-O,O-O,Ne4,d5,Bxd5,exd5,Ng3,Ng5,Nd2,Re8,f4,Ne4,Ndxe4,dxe4,Nxe4,Nf8,f5,Qd5,Qd3,Bd7,c4,Qc6,b3,Nh7,f6,gxf6,exf6,Bxf6,Nxf6+,Nxf6,Bxh6,Qe4,Qg3+,Qg4,Rxf6,Qxg3,hxg3,Be6,Raf1,c6,Bf4,b5,c5,Bd5,Be5,Re7,Bd6,Re2,R1f2,Rae8,Be5,Rxf2,Kxf2,Kh7,g4,Rg8,Rf4,Kg6,Kg3,Kg5,Rf5+,Kg6,Rf6+,Kh7,Rf2,Rg6,b4,Be6,Rf4,Bxa2,Bb8,a6,Kf2,Be6,Kf3,Bd5+,Kf2,Kg7,g3,Be6,Kf3,Bc4,Ke4,Re6+,Kf5,Bd3+,Kg5,Rg6+,Kh5,f6,g5,Rxg5+,Kh4,Be2,g4,Bc4,Bc7,Bd5,Bd8,Rg6,Kg3,Be6,Bc7,f5,Be5+,Kh6,Kf3,fxg4+,Kg3,Kg5,Rf8,Rh6', 'Bf4+,Kg6,Bxh6', 'https://lichess.org/training/r9stH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R9Wt3', 'Blitz', 'Dehon', 1759, 'NM aquiles88', 2250, 'd3,d5,c3,Nf6,b3,e5,Nd2,c5,Bb2,Nc6,g3,Be6,Bg2,Be7,e4,O-O,Qe2,h6,Ngf3,Qd7,exd5,Bxd5,O-O,Bd6,Ne4,Bxe4,dxe4,Qc7,Rad1,Rfd8,c4,Nd4,Bxd4,exd4,e5,Re8,exd6,Rxe2,dxc7,Rc8,Rd2,Rxd2,Nxd2,Rxc7,Re1,Kf8,Re5,b6,Kf1,Ng4,Rh5,g6,Rh4,f5,Bf3,g5,Rh5,Kg7,h3,Ne5,h4,g4,Bd5', 'Kg6,Rxf5,Kxf5', 'https://lichess.org/training/R9Wt3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R9xqM', 'Rapid', 'FM Kirill_Klyukin', 2539, 'Leniohrm1', 2172, 'd4,d5,Nf3,e6,c4,c6,Nbd2,Bd6,e3,f5,Bd3,Nf6,b3,O-O,Bb2,Nbd7,O-O,Ne4,Ne5,Nxe5,dxe5,Bc7,cxd5,cxd5,f3,Ng5,Rc1,Bb6,Bd4,Bxd4,exd4,Qb6,Rc5,Bd7,Qe2,Rac8,Rfc1,Rxc5,Rxc5,Rc8,Qf2,Nf7,h4,Nxe5', 'Rxc8+,Bxc8,dxe5', 'https://lichess.org/training/R9xqM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R9y4v', 'Rapid', 'LaurensSTT', 1840, 'melvynp19', 1778, 'd4,d5,Nc3,e6,Bf4,Nf6,Nf3,Nc6,e3,Bb4,a3,Ba5,b4,Bb6,Bd3,O-O,O-O,Re8,Ne2,Ne7,c4,a5,c5,Ba7,bxa5,b6,axb6,cxb6,Bb5,Rf8,Bd6,bxc5,Bxc5,Bxc5,dxc5,Qa5,a4,Ne4,Qc2,Ba6,Rab1,Bxb5,axb5,Rfc8,c6,Rab8,Ne5,Rxb5,Rxb5,Qxb5,Nd4,Qa6,f3,f6,fxe4,fxe5,Nxe6,Rxc6,Nc5,Qb6,Rc1,dxe4,Qxe4,Rxc5,Qa8+,Nc8,Rd1,Qc7,Qa2+,Kh8,Qe6,h6,Rd7,Rc1+,Kf2,Rc2+,Kg3,e4+,Kh3,Qa5', 'Qe8+,Kh7,Qxe4+', 'https://lichess.org/training/R9y4v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r9yEt', 'Classical', 'bom-bi-bom', 1617, 'DanielAmilAlvarez', 1644, 'e4,c5,d3,Nc6,Be3,e6,Nc3,Be7,Nf3,d6,d4,cxd4,Nxd4,e5,Nf5,Nf6,Nxg7+,Kf8,Nf5,Bxf5,Bh6+,Ke8,exf5,d5,Bb5,d4,Ne2', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/r9yEt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('R9zQ6', 'Rapid', 'roman_kosulin', 1794, 'Lenar001', 2111, 'e4,c5,f4,d6,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,c3,Bg7,Bd3,Nf6,O-O,Bg4,Qe1,O-O,Be3,Rb8,Qd2,a5,Na3,e5,f5,d5,h3,dxe4,hxg4,exd3,g5,Ne4,Qd1,f6,fxg6,hxg6,gxf6,Bxf6,Nc4,Qd5,Nb6,Qd8,Nc4,Kg7,Rxf6,Rxf6,Nxe5,Qd6,Ng4,Rxb2,Nxf6,Qxf6', 'Bd4,Qxd4+,cxd4', 'https://lichess.org/training/R9zQ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('r9ZVA', 'Blitz', 'Alexandr80', 1527, 'HeckM8', 1536, 'd4,Nf6,c4,e6,Bg5,d5,Nc3,Be7,e3,O-O,cxd5,exd5,Bd3,Re8,Qc2,Ne4,Bxe7,Qxe7,f3,Nf6,O-O-O,Qxe3+,Kb1,Qxd4,Nge2,Qb6,g4,Be6,g5,Nfd7,Bxh7+,Kf8,Nd4,Ne5,h4,g6,h5,Bf5,hxg6,Bxc2+,Kxc2,Nxf3,gxf7,Nxd4+,Kb1,Re6,g6,Kg7,Rhf1,Nd7,Nxd5,Qc5,Nc3,Nf6,Rh1,Nxh7,gxh7,Kh8,Rdg1,Qf8', 'Rg8+,Qxg8,hxg8=Q#', 'https://lichess.org/training/r9ZVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ra4QP', 'Rapid', 'piedescalzo', 1965, 'quaracique77', 2040, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bc4,Bb4,Nxc6,bxc6,O-O,Bxc3,bxc3,O-O,Bd3,d5,exd5,exd5,Bb2,Bg4,f3,Qb6+,Kh1,Qxb2,Rb1,Qxc3,fxg4,Rad8,Qf3,Nd7', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/ra4QP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rA7R1', 'Rapid', 'JohnnyBravo2', 1775, 'Peron6', 1767, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bc5,O-O,O-O,Re1,d6,d3,Bg4,Be3,Bxe3,Rxe3,Nd4,Qd2,Bxf3,gxf3,c6,Bc4,Qd7,Ne2,Qh3,Nxd4,exd4,Ree1,Nh5,Qg5,g6,f4,Qf3,f5,Nf4,Qg3,Ne2+,Rxe2,Qxe2,fxg6,hxg6,Qxg6+,Kh8,Bxf7', 'Rg8,Bxg8,Rxg8', 'https://lichess.org/training/rA7R1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RA8FK', 'Rapid', 'FNABLI', 1750, 'litts2019', 1704, 'd3,e5,f3,Nc6,e4,Bc5,a3,a5,Qe2,Nd4,Qd1,h6,Ne2,Ne6,Nbc3,Nf6,g4,Nh7,h4,d6,b4,axb4,Nd5,Nf6,c4,Nxd5,cxd5,Nd4,Nxd4,Bxd4,Ra2,Qf6,Bg2,c5,Qc2,b6,axb4,Rxa2,Qxa2,Bc3+,Ke2,Bxb4,Qa4+,Bd7,Qa8+,Qd8,Qxd8+,Kxd8,Bb2,Ke7,Ra1,Rd8,Bh3,Kf8,f4,f6,f5,Ba5,g5,h5,gxf6,gxf6,Bc1,Kf7,Bg2,Be8,Bf3,Ke7,Bh6,Bf7,Rg1,Rh8,Bc1,Kf8,Kd1,Rg8', 'Bh6+,Ke7,Rxg8,Bxg8,Bxh5', 'https://lichess.org/training/RA8FK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ra8Lo', 'Classical', 'Mmilcz71', 1606, 'AvengingKnight', 1653, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Be6,Bxe6,fxe6,O-O,Qd7,e5,d5,Bg5,h6,Bh4,g5,Bg3,Ne7,h4,Nc6,Qa4,gxh4,Bxh4,Nxe5,Qd4,Bg7,Qb4,Nc6,Qa3,Nd4,Qc5,Ne2+,Kh1,Bxb2,Nd2,Bxa1,Rxa1,Nf4,Nf3,Qd6,Qd4,Rg8,g3,Ng6,Qf6,Qe7,Qxe7+,Nxe7,Re1,O-O-O,Rxe6,Rde8,Rxh6,Nf5,Rh7,Nxh4,Rxh4,Ref8,Kg2,Rh8,Rg4,Rf7,Nd4,Rhf8,f4,Re7,Kf3,Rfe8,Nf5,Re2,Rg7,b6,Kg4,Rd8,Nd4,Rd2,Nc6,Re8,Nxa7+,Kb7,Nb5,Rxc2', 'Nd6+,Kb8,Nxe8', 'https://lichess.org/training/ra8Lo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAbb8', 'Blitz', 'sombra03', 1859, 'tall2020', 1856, 'e4,d5,exd5,e6,dxe6,Bxe6,Nf3,Nf6,Be2,Nc6,O-O,Bd6,d4,O-O,c4,Bg4,Nc3,Bxf3,Bxf3,Nxd4,Bxb7,Rb8,Bf3,Re8,g3,Nf5,Bg5,h6,Bxf6,Qxf6,Ne4,Qxb2,Nxd6,Nxd6,Bd5,Qf6,a4,Rb2,Ra3,Ree2,Rf3,Qg6,Qc1,Qg4,Rf4,Qh3,Qc3,c6,Bg2,Qe6,Bxc6,Rec2,Qf3,Rxc4,Bd5,Rxf4,gxf4,Qg6+,Kh1,Nf5,Rg1,Qf6,Be4,Nh4,Qe3,g6,f5,g5,f3,Kg7,Qd3,Qe5,Rg2,Qf4,Rxb2', 'Qc1+,Qf1,Qxf1#', 'https://lichess.org/training/RAbb8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('raBls', 'Blitz', 'Denggabriel93', 1740, 'sandzzz', 1684, 'e4,c5,f4,d6,Nf3,Nf6,Nc3,e6,Bb5+,Nbd7,e5,dxe5,Nxe5,Be7,Bxd7+,Nxd7,O-O,O-O,d3,Bf6,Re1,Qc7,Nb5,Qb6,a4,a6,Na3,c4+,Kh1,cxd3,Nac4,dxc2,Qxc2,Qc5,Be3,Qb4,b3,Nxe5,Nxe5,b6,Rac1,Bb7,Nd7,Rac8,Nxf6+,gxf6,Qf2,Qxb3,Rb1,Qxa4,Rxb6,Bd5,Qg3+,Kh8,Qh4,Rg8', 'Qxf6+,Rg7,Bd4,Qxd4,Qxd4', 'https://lichess.org/training/raBls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rAbpA', 'Blitz', 'AlexMitAlex', 2297, 'WGM imnow', 2376, 'd4,d5,Nf3,c6,Bf4,Bg4,Ne5,Bf5,e3,f6,Nd3,g5,Bg3,Bg7,Nd2,h5,h3,h4,Bh2,Nh6,c4,Nf7,Qb3,b6,cxd5,cxd5,Rc1,O-O,Nb4,e6,Bd3,Bxd3,Nxd3,Nd7,O-O,f5,Rc6,Qe7,Qa3,Qxa3,bxa3,Rfe8,Rfc1,Nf6,Ne5,Nxe5,Bxe5,Re7,Nf3,Ne4,Rc7,Rae8,a4,Kf7,R1c6,Rxc7', 'Rxc7+,Re7,Rxe7+,Kxe7,Bxg7', 'https://lichess.org/training/rAbpA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rabQI', 'Rapid', 'fischyVishy2002', 1687, 'Myktybek-Dzhumadylov', 1704, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Nbd7,cxd5,exd5,Nc3,h6,Bh4,Bb4,e3,O-O,Bd3,Re8,O-O,Be7,Bxf6,Bxf6,Nxd5,c6,Nxf6+,Qxf6,Rc1,Nb6,b3,Bg4,Be2,Qg6,Ne5,Bxe2,Qxe2,Qf5,Rc5,Nd5,e4,Rxe5,dxe5,Qxe5,Qd3,b6,exd5,bxc5,dxc6,Rc8,Qa6,Qe8,Rc1,Rxc6,Qxa7,Rg6,h3,Qe4,Qb8+,Kh7,Qh2,Re6,Kf1', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/rabQI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RabxF', 'Rapid', 'xadrez_maicom', 1690, 'SethiI', 1637, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Ne7,Nf3,a6,Bxc6+,Nxc6,Nxe5,Qg5,Nxc6,Qxg2,Rf1,bxc6,Be5,Bd6,Bxg7,Rg8,Bb2,Bh3,Qe2,Bg4,f3,Bh3,Qxg2,Rxg2,f4,Rxh2,Rg1,O-O-O,Nc3,Bxf4,exf4,Re8+,Kd1,Bg4+,Kc1,Bf3,a4,Rh1,Rxh1,Bxh1,Kb1,h5,Ka2,Bf3,Rf1,Bg2,Rf2,Be4,d3,Bf5,Rh2,Rh8,Ne2,Rh7,Ng3,Bg4,c4,h4,Nf1,h3,Ne3,Be2,d4,Bd3,cxd5,cxd5,Nxd5,Be4,Ne7+,Kd7,Ba3,f6,Re2', 'h2,Rxh2,Rxh2+', 'https://lichess.org/training/RabxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAc3r', 'Rapid', 'taha64', 1657, 'Kulkay', 1713, 'e4,c5,Bc4,e6,d3,Nf6,h3,h6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Nbxd7,Qe2+,Qe7,Qxe7+,Bxe7,O-O,Bd6,d4,O-O,dxc5,Bxc5,a3,Rac8,Nc3,d4,Na2,Rfe8,Bf4,Nd5,Bg3,f5,Rfe1,f4,Bh2,N7f6,Rxe8+,Rxe8,Re1,Rxe1+,Nxe1,g5,Nd3,Bb6,Nab4,Nxb4,Nxb4,a5,Nd3,Bc7,Nc5,b6,Nd3,Bd6,g3,Nd5,gxf4,Nxf4,Nxf4,Bxf4', 'Bxf4,gxf4,Kg2,Kf7,Kf3', 'https://lichess.org/training/RAc3r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RACmU', 'Rapid', 'Nilu15255', 1784, 'Jidbo', 1678, 'e4,d5,Bb5+,c6,Ba4,dxe4,Nc3,Nf6,f3,Bf5,h3,e6,fxe4,Nxe4,Nxe4,Bxe4,Nf3,Bd6,d3,Bg3+,Kf1,Bd5,Bg5,Bxf3,Qxf3,Qxg5,Bb3,O-O,Ke2,Qe5+,Kd2,Bf4+,Kd1,Qxb2,Ke2,Bh6,g4,Nd7,Rag1,Ne5,Qg3,Nd7,g5,Qe5+,Kf1,Qxg3,Rxg3,Bxg5,Rxg5,Nf6,Rhg1,g6,h4,Rad8,Rh1,h5,Ke2,Rd4,Rf1,Ng4,Bxe6,fxe6,Rxg6+,Kh7,Rxe6,Rxf1,Kxf1,Nh2+,Kg2,Rxh4,Re7+,Kg6,Rxb7,Ng4,Rxa7,Kg5,Rg7+,Kf4,Rf7+,Kg5,Kg3,Ne5,Re7,Ng6,Re6,Rg4+,Kf3,h4', 'Rxg6+,Kxg6,Kxg4', 'https://lichess.org/training/RACmU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RacmZ', 'Rapid', 'afunnyline', 2120, 'firouz1', 2081, 'd4,e6,c4,d5,cxd5,exd5,Nc3,Nf6,Bf4,b6,e3,c5,Nb5,Na6,Nf3,Be7,Ne5,O-O,Nc6,Qd7,Nxe7+,Qxe7,Bd6,Qd7,Bxf8,Kxf8,Bd3', 'c4,Bxc4,dxc4', 'https://lichess.org/training/RacmZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('racqp', 'Rapid', 'Nielsferatu', 1766, 'terencetao', 1793, 'e4,d5,exd5,Qxd5,d4,e5,Nc3,Qxd4,Qxd4,exd4,Nb5,Na6,Bf4,c6,Nxd4,Nf6,O-O-O,Be7,Ngf3,O-O,Bxa6,bxa6,Nxc6,Bc5,Bd6,Bxd6,Rxd6,Bb7,Ncd4,Ne4,Rd7,Nxf2,Rf1,Bxf3,Rxf2,Bh5,Nf5,Bg6,Ne7+,Kh8,Nxg6+,fxg6,Rff7,Rxf7,Rxf7,Kg8,Rd7,g5,c4,h6,b4,Kh7,Kc2,Kg6,g4,Kf6,Rd6+,Ke5,Rxa6,Kf4,h3,Kg3,Ra3+,Kf4,Rc3,g6,a4,h5,gxh5,gxh5,c5,g4,hxg4,hxg4,Rc4+,Kf3,Rc3+,Kf2,c6,g3,c7', 'g2,c8=R,Rxc8,Rxc8,g1=Q', 'https://lichess.org/training/racqp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rADaA', 'Rapid', 'Mikey_MouseBS', 1661, 'fragoso-chess', 1739, 'e4,c5,Nf3,Nc6,d3,d6,Nc3,Nf6,h3,d5,exd5,Nxd5,Nxd5,Qxd5,Be3,Nd4,Nxd4,cxd4,Bd2,e5,Qe2,Bd6,Rg1,O-O,g4,Re8,Bg2,Qb5,O-O-O,Be6,b3,Rac8,Kb2,Qa6,a4,b5,Ra1,bxa4,Rxa4,Qb6,Rga1,Qc5,Bb4,Qc7,Bxd6,Qxd6,Rxa7,Qc5,Qd2,Bd5,R7a5', 'Qc3+,Qxc3,dxc3+', 'https://lichess.org/training/rADaA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAdjP', 'Rapid', 'jvs_chess', 1734, 'Madao115', 1723, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,e6,d3,Nf6,Nbd2,Be7,Re1,O-O,h3,d5,Nb3,a5,Be3,Qb6,e5,Nd7,a4,Rb8,Rb1,Ba6,Bd2,c4,Bxa5,Qb7,Nbd4,cxd3,cxd3,Nc5,Re3,Qa8,h4,Bxd3,Rxd3,Nxd3,Bc3,Nc5,b3,Na6,g3,Nb4,Qd2,Rb6,Nc2,c5,Nxb4,cxb4,Bd4,Rc6,Ng5,Rfc8,Qf4,Bxg5,hxg5,Rc2,Kg2,Re2,Rh1,Rcc2,Qh4,Qb7,a5,Re4,Qxh7+,Kf8,Bb6,d4', 'Qh8+,Ke7,Qd8#', 'https://lichess.org/training/RAdjP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rAEDi', 'Rapid', 'MeaningfulMonkey', 1649, 'AlejandroMtz', 1618, 'd4,d5,c4,Nf6,Nc3,Bf5,e3,e6,a3,c6,Nf3,Nbd7,Be2,Bd6,O-O,Ne4,Nxe4,dxe4,c5,exf3,cxd6,fxe2,Qxe2,O-O,e4,Bg6,Re1,Nb6,Be3,Bxe4,d5,Bxd5,Bxb6,axb6,Rad1,Qxd6,h3,Ra5,Rd2,Qc7,g4,b5,Qe3,Rd8,b4,Ra7,Qxa7,Rb8,Qe3,Ra8,f4,Re8,Kf2,f6,Red1,e5,Re1,Re6,Qc5,b6,Qc3,exf4,Rxd5,Rxe1,Kxe1,Qe7+,Kf2,cxd5,Qc8+,Qf8,Qe6+,Qf7,Qxb6,d4,Qxd4,Qa2+,Kf3,Qxa3+,Kxf4,Qxh3,Qd5+,Kf8,Qd8+,Kf7,Qd7+,Kg6,Qf5+,Kf7,Qd5+,Kg6,Qf5+,Kh6', 'g5+,fxg5+,Qxg5#', 'https://lichess.org/training/rAEDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAefe', 'Rapid', 'Lizzka', 2139, 'tactikus', 2124, 'd4,e6,Nf3,b6,e3,Bb7,Bd3,f5,O-O,Nf6,c4,Bd6,Nc3,a6,b3,O-O,Bb2,c5,dxc5,bxc5,Bxf5,Bc7,Bd3,Ng4,Ne4,Nxh2,Nxh2,Qh4,Ng4,Rf5,g3,Qh3,Re1,Rh5,Qf3,Rf5,Qe2,Rh5,Qf3,Rf5,Nef6+,gxf6,Qxb7,Bxg3,Nh6+,Qxh6,Bxf5', 'Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/RAefe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('raFoJ', 'Classical', 'MELVIN2019', 1932, 'HenryBird1830', 1901, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Na3,cxd4,cxd4,Bb4+,Bd2,Nxd4,Nxd4,Qxd4,Qa4+,Bd7,Qxb4,Qxe5+,Be2,b6,Bf4,Qf5,O-O,e5,Rfe1,Qxf4,Qxf4,exf4,Bb5+,Ne7,Bxd7+,Kxd7,Re5,Kd6,Rae1,Ng6,Rf5,Rhe8,Rd1,Re5,Rxf7,Rae8', 'Nc4+,Kc6,Nxe5+', 'https://lichess.org/training/raFoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ragyx', 'Classical', 'Nerio36', 1604, 'Atroks', 1691, 'e4,e5,Qh5,Nc6,Bb5,Nf6,Qf3,Nd4,Qd3,Nxb5,Qxb5,Bd6,d3,a6,Qb3,O-O,Bg5,h6,Bh4,Be7,h3,d6,c4,c5,Nd2,b6,Ngf3,a5,g4,a4,Qd1,Bd7,g5,hxg5,Bxg5,b5,h4,Nh7,Bxe7,Qxe7,h5,Bg4,h6,g6,cxb5,Ng5,Rg1,Nxf3+,Nxf3,Bh5,h7+,Kxh7,Rh1,Kg7,Rxh5,gxh5,Qd2,Qf6,Qe3,Rab8,O-O-O,Rxb5,Rg1+,Kh8,Rg5,Qf4,Rxh5+,Kg7,Rg5+,Kf6', 'Rf5+,Qxf5,exf5', 'https://lichess.org/training/ragyx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAiAg', 'Rapid', 'GambitBuddha', 1827, 'Shtukun', 1997, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Be7,e3,O-O,Bd3,dxc4,Bxc4,c5,O-O,Nc6,dxc5,Bxc5,Qe2,a6,a3,b5,Rd1,Qe7,Bb3,Bb7,Bc2,Rfd8,b4,Rxd1+,Nxd1,Bb6,Bb2,Rd8,Nc3,Nb8,Rd1,Nbd7,Nb1,Nd5,Nbd2,N7f6,Nd4,e5,Nf5,Qc7,Ne4,Bc8,Nxf6+,Nxf6,Rxd8+,Qxd8,Ng3,Qc7,Ne4,Nxe4,Bxe4,Be6,Qh5,h6,Qxe5,Qxe5,Bxe5,a5,Bd6,Bc4,g3,Be2,Kg2,g6,Bc6,axb4,Bxb4,Kg7,h4,Kf6,Bf3,Bc4,Bc6,Be2,Be8,Ke6,Bc6,Bc7,f4,Bb6,e4,Bd4,Bd5+,Kf6,Bc6,Ke6,Bd5+,Kf6,Bb7,Bg4,Bf8,h5,e5+,Kf5,Bc8+,Ke4,Bxg4,hxg4,Bb4,Ke3,Bd6,Ke2,Be7,Kd3,Bb4,Kc4,Bd6,Kb3,Kf1,Bb2,f5,gxf5,h5,Bc1,Bf8,Bg5,Bb4,Bh6,Ke2,Kc2,Bd6,Kc3,Bb4+,Kd4,Bd6,Ke4,Bc7,f4,gxf4,Bxf4', 'e6,fxe6,Bxf4', 'https://lichess.org/training/RAiAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAJ5c', 'Rapid', 'sspol', 1823, 'ARA9000', 1723, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,h6,O-O,O-O,Be3,d6,Bxc5,dxc5,h3,Re8,b4,cxb4,cxb4,Be6,Bxe6,Rxe6,Qb3,Nd4,Nxd4,Qxd4,Nd2,Rb6,a3,a5,Nc4,Rb5,Qa4,c6,bxa5,Raxa5,Qc2,Ra8,Ne3,Rba5,Qb3,b5,Nf5,Qd7,Rfc1,Kh7,Rc3,g6,Ne3,Qd4,Qb4', 'Qxb4,axb4,Rxa1+', 'https://lichess.org/training/RAJ5c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rAjAF', 'Blitz', 'PaulWilson', 1513, 'qchen', 1549, 'e4,c5,Nf3,Nc6,Bc4,g6,Nc3,Bg7,O-O,e6,d3,Nge7,Bg5,O-O,h3,d6,Nb5,a6,Nc3,b5,Bb3,Qc7,a4,b4,Ne2,Bxb2,Ra2,Bg7,Nf4,a5,Bh4,h6,g4,g5,Nh5,gxh4,Nxg7,Kxg7,Nxh4,Qd8,Kh2,Ng6,Nxg6,fxg6,f4,Nd4,f5,Nxb3,cxb3,exf5,gxf5,Qe7,Raf2,Qe5+,Kh1,gxf5,Rg1+,Kh7,Qh5,Be6', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/rAjAF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RajTf', 'Rapid', 'ravelo2010', 1873, 'ChrisDani', 2115, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,Bg5,c6,Qf3,Be7,Rad1,Bg4,Qe3,Bxd1,Rxd1,Qc7,Qh3,h6,Bxf6,Bxf6,Qf5,Rfe8,Qh7+,Kf8,Qh8+,Ke7,Re1+,Kd7', 'Bf5+,Kd6,Rxe8,Rxe8,Qxe8', 'https://lichess.org/training/RajTf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rAkfG', 'Blitz', 'ActionAlwaysWins', 1989, 'lujo7695', 1929, 'd4,d5,c4,Nf6,Nf3,c6,Bf4,Bg4,Ne5,Bh5,Qb3,Qb6,c5,Qxb3,axb3,Nbd7,b4,Nxe5,Bxe5,e6,Nd2,Be7,Nb3,O-O,Na5,Bg6,Nxb7,Nd7,Bg3,Bf6,Bd6,Rfe8,f4,Be4,e3,g5,fxg5,Bxg5,Kf2,Bf6,Na5,Kh8,Nxc6,Rg8,Rg1,Bf5,Ba6,Bh4+,g3,Bf6,Bb7,Rae8,Rxa7,h5,b5,h4,b6,hxg3+,hxg3,e5,Ba6,exd4,exd4,Bg4,b7,Re2+,Bxe2,Bf5,b8=Q,Nxb8,Nxb8,Bxd4+,Kg2,Be4+,Kh2,Rg6,Bf4,Rg7,Nc6', 'Rh7+,Bh6,Rxh6+,Bh5,Rxh5#', 'https://lichess.org/training/rAkfG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAKKK', 'Rapid', 'Melinguet', 2039, 'IyadAnty', 2070, 'e4,e6,Nc3,d5,e5,c5,d3,Nc6,f4,a6,Be2,f6,Nf3,Nh6,O-O,Be7,exf6,Bxf6,Ne5,O-O,Nxc6,bxc6,Bf3,Qb6,Na4,Qa7,c3,Nf5,Kh1,Bd7,Bd2,Rab8,Qc2,d4,b3,e5,fxe5,Bxe5,cxd4,Bxd4,Nb2,Rbe8,Be4,Qc7,Bf4,Be5,Bxe5,Qxe5,Rae1,Ne3,Rxf8+,Rxf8,Qc1,Rf1+,Rxf1,Nxf1,Qxf1,Qxb2,h3,Qxa2,Qc1,Qxb3,Qxc5,Qf7,Bxc6,Qf1+,Kh2,Qxd3', 'Bd5+,Qxd5,Qxd5+', 'https://lichess.org/training/RAKKK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAlw1', 'Rapid', 'Praseodymium1877', 2172, 'probisvet62', 2189, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Be3,c5,Bc4,Nd7,Qd2,O-O,O-O-O,Nb6,Bd3,d5,Ng5,g6,h4,c4,Be2,Be6,h5,Na4,hxg6,hxg6,Bd4,Bf6,Nh7,Bxd4,Qh6,Bg7', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/RAlw1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAMVX', 'Rapid', 'Ucdkee', 1728, 'tttt3101', 1716, 'e4,d6,f4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,d4,Nfd7,O-O,a6,Bb3,c5,dxc5,Nxc5,Re1,Nbd7,Nd5,Nf6,Nc3,e6,e5,dxe5,Nxe5,Qb6,Kh1,Qc7,Be3,b5,Qd4,Rd8', 'Qxc5,Qxc5,Bxc5', 'https://lichess.org/training/RAMVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RANCh', 'Rapid', 'Knight2a', 1688, 'philidov', 1705, 'd4,c5,dxc5,b6,cxb6,Qxb6,Nf3,Bb7,Qd4,Nc6,Qxb6,axb6,Bf4,Nb4,Na3,Rxa3,bxa3,Nxc2+,Kd1,Nxa1,Kc1,g6,Kb2,Bg7+,Be5,Bxe5+,Nxe5,Nf6,Kxa1,O-O,f3,d6,Nc4,b5,Nd2,Nd5,e4,Ne3,Bxb5,Nxg2,a4,Ra8,Kb2,Nf4,Rc1,Ba6,Nb1', 'Bxb5,axb5,Nd3+,Kc2,Nxc1', 'https://lichess.org/training/RANCh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAomd', 'Rapid', 'josielchess', 1836, 'Mahlzahn', 1871, 'e4,e6,c4,d5,cxd5,exd5,exd5,Qxd5,Nc3,Qe6+,Be2,Nc6,Nf3,Bd7,d4,Nf6,Bg5,Qd6,O-O,O-O-O,Nb5,Qd5,Qa4,a6,Rac1,Kb8,Nc3,Qf5,Bxa6,Nxd4,Nxd4,Qxg5,Bb5,Bd6,Bxd7,Nxd7,Ncb5,Bc5,Rc3,Bxd4,Ra3,Nb6,Qa7+,Kc8,Rd1,Bc5', 'Qa8+,Nxa8,Rxa8#', 'https://lichess.org/training/RAomd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rAoQS', 'Blitz', 'Adeen', 1812, 'helianthus1', 1806, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Nxc3,bxc3,c5,Nf3,Bg4,Be2,e6,O-O,Nc6,Ne5,Bxe2,Qxe2,cxd4,Nxc6,bxc6,cxd4,Qxd4,Be3,Qf6,Qc4,e5,f4,Be7,fxe5,Qg6,Bc5,Qe6,Qc3,O-O,Bxe7,Qxe7,Qxc6,Qxe5,Rae1,Qd4+,Kh1,Rac8,Qf3,Rxc2', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/rAoQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('raoTc', 'Blitz', 'leanblanc', 1574, 'joelaws3', 1619, 'd4,c5,Bg5,e6,Bxd8,Kxd8,dxc5,Bxc5,e3,Nc6,c3,Ne5,Nd2,Nf6,Ndf3,Neg4,h3,Nxf2,Kxf2,Ne4+,Ke1,Bxe3,Qe2,Bf2+,Kd1,Nxc3+,bxc3,Bc5,Ne5,Rf8,Ngf3,b6,Ng5,Kc7,Qe4,Bb7,Qa4,d6,Nexf7,Bc6,Qc2,h6,Nxe6+,Kb7,Nxf8,Rxf8,Bc4,d5,Qf5,dxc4,Nd6+,Bxd6,Qe6,Rd8,Kc2,Ba3,Rhd1', 'Ba4+,Kb1,Rxd1#', 'https://lichess.org/training/raoTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rAOxf', 'Rapid', 'kolpakov-07', 1988, 'Pocchia', 1822, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,c3,d6,cxd4,Bg4,Bb5,a6,Ba4,b5,Bb3,Nf6,Qc2,Bxf3', 'Qxc6+,Kf8,gxf3', 'https://lichess.org/training/rAOxf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RaPHy', 'Rapid', 'Kebabbaro_Prodigioso', 1822, 'oliverK0308', 2104, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,f5,Nc3,Bb4,O-O,Bxc3,bxc3,O-O,Ba3,Rf6,c4,Qf7,Re1,e4,dxe4,fxe4,Ne5,Nxe5', 'Qd8+,Qf8,Bxf8', 'https://lichess.org/training/RaPHy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAPmE', 'Rapid', 'erdal_sarikulak', 2163, 'Stingray29', 2142, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nf3,Bg4,h3,Bh5,Bg5,Be7,O-O,O-O,Re1,c6,c3,Nbd7,Bc2,h6,Bh4,Qc7,Nbd2,Bd6,Nf1,Rfe8,Rxe8+,Rxe8,Ng3,Ne4,Nxh5,g6,Ne1,gxh5,Qxh5,Ndf6,Bxf6', 'Bh2+,Kf1,Nd2#', 'https://lichess.org/training/RAPmE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAQKt', 'Classical', 'Amoo_Hasan', 1717, 'vn23', 1796, 'e4,Nc6,d4,d5,e5,f6,exf6,Nxf6,Nc3,e5,dxe5,Nxe5,h3,Bb4,Bd2,c6,Be2,d4,Nb1,Qb6,b3,Bf5,Nf3,Nxf3+,Bxf3,O-O,O-O,Rfe8,a3,Bd6,c3,d3,c4,Be5,Nc3,Rad8,Rb1,Qa5,Nd5,Qxa3,Nxf6+,Bxf6,b4,Qa6,Qb3,Qb6,c5+,Be6,Qxe6+,Rxe6,cxb6,axb6,Bg4,Re4,Be3,b5,Rbd1,Bc3,Be2', 'dxe2,Rxd8+,Kf7', 'https://lichess.org/training/RAQKt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RAr0a', 'Rapid', 'Rudo555', 1939, 'albertonahas', 1910, 'e3,Nf6,h3,g6,a3,Bg7,Nc3,O-O,g4,Nc6,Nf3,d6,g5,Nd7,h4,f6,h5,fxg5,Nxg5,Nde5,Nxh7,Kxh7,hxg6+,Kg8,Qh5,Nf3+,Kd1,Rf6,Ne4,Rf5,Qh7+,Kf8,Bd3,Nce5,Be2,Qe8', 'Qh8+,Bxh8,Rxh8+,Kg7,Rxe8', 'https://lichess.org/training/RAr0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('raR0r', 'Blitz', 'Shutunicorn', 1831, 'mcorelo', 1893, 'e4,e5,Nf3,Nc6,Bb5,f5,Bxc6,dxc6,exf5,e4,Qe2,Qe7,Nd4,Nf6,Nc3,Qe5,Nb3,Bd6,g3,Bxf5,O-O,O-O-O,f4,Qe7,Re1,Rhe8,Qe3,Ng4,Qxa7,b6,Qa6+,Kd7,Qc4,g5,Nd4,Bc5,Na4,Bxd4+,Qxd4+,Kc8,Qc3,gxf4,Qxc6,fxg3', 'Nxb6+,Kb8,Qa8#', 'https://lichess.org/training/raR0r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rARxa', 'Classical', 'maremma_bucaiola', 2062, 'QEDemonstrandum', 1906, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,Bg7,f3,O-O,Qd2,d5,exd5,Nxd5,Nxc6,bxc6,Nxd5,cxd5,O-O-O,e6,Kb1,a5,g4,Ba6,h4,Bxf1,Rdxf1,a4,Bh6,Qf6,Bxg7,Kxg7,h5,a3,c3,axb2,hxg6,Qxg6+,Kxb2,Rfb8+,Ka1,Ra3,Qd4+,Kg8,Rb1,Rxa2+,Kxa2,Qc2+,Ka3,Ra8+,Kb4,Qa4+,Kc5,Rc8+,Kd6,Qc6+,Ke5,Qc7+,Kf6,Qd8+,Ke5,f6+,Kf4', 'e5+,Qxe5,fxe5+', 'https://lichess.org/training/rARxa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rAsd7', 'Rapid', 'goodnap', 1789, 'Gvladimir1945', 1822, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Bd3,Bg4,f3,Bh5,g4,Bg6,Bb5+,Nc6,h4,h6,h5,Bh7,Be3,a6,Be2,e6,g5,hxg5,Bxg5,Be7,Qd2,b5,h6,g6,Qf4,Nh5,Bxe7,Qxe7,Qg4,O-O-O,O-O-O,f5,Qh4,Qxh4,Rxh4,Ng3,Bf1,g5,Rh3,f4,Nge2,Nxe2+,Bxe2,Bf5,Rh5,Rdg8,Rg1,Nxd4,h7,Rxh7,Rhxg5,Rxg5,Rxg5,Nxe2+,Nxe2,Rh1+,Kd2,Kb7,Nxf4,Rh2+,Ne2,Kc6,Rg8,e5,Rf8,Bg6', 'Rf6+,Kc7,Rxg6', 'https://lichess.org/training/rAsd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ratp2', 'Rapid', 'LuizPauloRodri34', 1941, 'Moshiso', 1946, 'd4,e6,c4,c5,d5,exd5,cxd5,c4,Nc3,Bc5,e4,Qb6,Qf3,d6,Bxc4,Nf6,h3,Nbd7,Bb5,a6,Bxd7+,Nxd7,Na4,Qb4+,Nc3,Ne5,Qg3,Qd4,Nge2,Nd3+,Kf1,Qxf2+,Qxf2,Bxf2,Bf4,Bc5,b3,Nxf4,Nxf4,Bd4,Rc1,O-O,Nce2,Be5,Rc7,f5,exf5,Rxf5,g3,b5,Nd4,Bxd4,Kg2,g5,Nd3,Rxd5,Re1,Bb6', 'Re8#', 'https://lichess.org/training/ratp2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RavB5', 'Rapid', 'MustafaKorkmazyzz', 1771, 'BPDBT', 1754, 'e4,e5,Nf3,Nc6,d4,f6,Bb5,a6,Bxc6,bxc6,dxe5,fxe5,Nxe5,d5,Qf3,Nf6,Bg5,h6,Nxc6,Qd6,Bxf6,gxf6,Qh5+,Kd7,Nd4,Qb4+,c3,Qxb2,Qxd5+,Bd6,Qxa8,Qxa1,O-O,Qxa2,Qc6+,Kd8,Rd1,Qg8,Nf3,Bh3,Qa8+,Bc8,e5,fxe5,Nxe5,Qe6,Nc6+,Kd7,Nd4,Qg4,Qc6+,Kd8,Nf3,Rg8,Kf1,Qxg2+,Ke2,Re8+,Kd2,Qxf2+,Kc1,Bf5,Qa8+,Bc8,Qc6,Bd7,Qa8+,Ke7,Re1+,Be6', 'Rxe6+,Kxe6,Qxe8+', 'https://lichess.org/training/RavB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rAXkz', 'Rapid', 'alexx2018', 1843, 'smart-arse', 1881, 'e4,b6,Bc4,Bb7,Qh5,e6,d3,Nf6,Qg5,d5,exd5,exd5,Bb3,Bd6,Nc3,O-O,h4,Re8+,Kf1,d4,Nce2,Qe7,Bd2,c5,Re1,Qc7,h5,Nbd7,h6,g6,Ba4,a6,Bxd7,Qxd7,Qxf6,Bf8,Nf3,Bxf3,gxf3,Qd5,Rg1,Re6,Qf4,Be7,Ng3,Rf6,Qg4,Bf8,Nh5,Rxf3,Qg5,Rf5,Nf4', 'Rxg5,Nxd5,Rxd5', 'https://lichess.org/training/rAXkz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rAy9d', 'Rapid', 'Ulviya', 2025, 'suvanba', 1958, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Bd3,Nc6,O-O,e5,dxe5,Nxe5,Nxe5,dxe5,Bg5,Be6,Nd5,Bxd5,exd5,Qd6,Re1,Rfe8,Rc1,Rad8,Bc2,Rd7,Ba4,c6,dxc6,bxc6,Qxd6,Rxd6,c5,Rde6,Bxf6,Bxf6,Rcd1,Be7,b4,a5,a3,axb4,axb4,Bf8,Rd7,Ra8,Bb3,Re7,Rxe7,Bxe7,g3,Bf6,Rd1,Ra3,Rd3,e4', 'Bxf7+,Kxf7,Rxa3', 'https://lichess.org/training/rAy9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rayaw', 'Blitz', 'GM Rvera', 2485, 'DanPach', 2496, 'd4,Nf6,c4,g6,Nc3,c5,Nf3,Bg7,e4,cxd4,Nxd4,O-O,Be2,Nc6,Be3,d6,O-O,Ng4,Bxg4,Bxg4,Qxg4,Nxd4,Rad1,f5,exf5,Nxf5,Bg5,Bxc3,bxc3,Rc8,Rfe1,Qc7,Re4,Rf7,h4,Qa5,h5,Qxc3,hxg6,hxg6,Bxe7,Rxe7', 'Qxg6+,Qg7,Qxf5', 'https://lichess.org/training/rayaw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RaZB1', 'Bullet', 'FM Doubleb17', 2174, 'jcsampera', 2099, 'e4,d6,d4,Nf6,Nc3,Nc6,Bg5,g6,Bxf6,exf6,Bc4,Bg7,Nge2,f5,exf5,Bxf5,O-O,O-O,Bd5,Qd7,Ng3,Be6,Bxc6,bxc6,Nce2,Rab8,Rb1,Rb5,b3,c5,c4,Ra5,d5,Bf5,Nxf5,Qxf5,Qd2,Ra6,Ng3,Qg4,Rbe1,Qd4,Qxd4,Bxd4,Re2,Ra3,Rfe1,a5,Rd2,a4,Rd3,axb3,axb3,Rb8,h4,Rbxb3,Rxb3,Rxb3,Re7,Rb1+,Kh2,Bxf2,Ne4,Bxh4,Rxc7,Rc1,Nxd6,Bf6', 'Rc8+,Kg7,Ne8+,Kh6,Nxf6', 'https://lichess.org/training/RaZB1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rAZte', 'Rapid', 'Mata_duendes', 1858, 'JulloJoustaUwU', 1864, 'e4,c5,Nf3,d6,c3,e5,g3,Nc6,Bg2,Nf6,d3,h6,O-O,Be7,Na3,Bg4,Nc2,Qd7,Ne3,Bh3,Qe2,Bxg2,Kxg2,O-O,h3,d5,Nf5,dxe4,dxe4,Qe6,Be3,Rfd8,Nxe7+,Qxe7,Bd2,Qe6,Nh4,a6,Nf5,b5,Rae1,b4,cxb4,cxb4,b3,Nd4,Nxd4,Rxd4,f3,Rad8,Rd1,Nh7,Be3,R4d6,Bc5,R6d7,Bxb4,Ng5,g4,h5,h4,Nh7,g5,Qb6,Bc3,Qc5,Bb2,Qb4,Kg3,Rd2,Rxd2,Rxd2,Qc4', 'Qxc4,bxc4,Rxb2', 'https://lichess.org/training/rAZte');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rB10I', 'Blitz', 'LuisAlejandr0', 1937, 'kingbreaker', 1940, 'Nc3,e6,e4,c5,Bc4,Nc6,Nf3,g6,d3,Bg7,a3,Nge7,Bg5,O-O,O-O,a6,Re1,Qc7,Rb1,b5,Ba2,Bb7,Ne2,f6,Bf4,Qd8,Bd6,Kh8,Bxc5,d6,Be3,d5,exd5,Nxd5,Bd2,e5,Ng3,Nd4,Nxd4,exd4,Qf3,Qd6,c4,dxc3,bxc3,Rae8,c4,bxc4,Rxb7,Rxe1+,Bxe1,Qxa3,Bxc4,Nc3,Nf1,f5,Rb3,Qc1,Bxc3,Bxc3,Qb7,Re8,Qf7', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/rB10I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rb3gp', 'Blitz', 'Darraptor', 1598, 'GENUL', 1536, 'e4,d5,exd5,Nf6,Nc3,Bf5,Nf3,Nxd5,Nxd5,Qxd5,d3,e6,c4,Qd8,a3,Nd7,b4,c5,Bb2,h5,Be2,Bg4,O-O,Bd6,Bxg7,Rg8,Bc3,Bxf3,Bxf3,Qc7,g3,h4,Qe2,hxg3,hxg3,Bxg3,fxg3,Rxg3+,Bg2,O-O-O,Rf3,Rgg8,b5,Rg6,a4,Rdg8,Rf2,Rh6,a5', 'Qh2+,Kf1,Qh1+,Bxh1,Rxh1#', 'https://lichess.org/training/Rb3gp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rB3iY', 'Rapid', 'Miaoumax', 1625, 'r173', 1644, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,O-O,Be2,d6,c4,Nc6,Nc3,Re8,Rc1,e5,dxe5,dxe5,Qxd8,Rxd8,Nxe5,Nb4,O-O,Nh5,a3,Nxf4,exf4,Na6,b4,c6,b5,Nc7,bxc6,bxc6,Nxc6,Rd2,Bf3,Kf8,Rfe1,Ne6,Nd5,Bd7,Ne5,Bxe5,fxe5,Ng5,Be4,Nxe4,Rxe4,Bf5,Re3,Rc8,h3', 'Rxd5,cxd5,Rxc1+', 'https://lichess.org/training/rB3iY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RB3yf', 'Rapid', 'grif979v', 1904, 'Seppelregi', 1816, 'e4,e6,d4,Nc6,c3,d5,e5,f6,f4,Be7,Bd3,g5,Qh5+,Kd7,f5,Qe8,fxe6+,Kd8,Qg4,h5,Qf3,Bxe6,exf6,Nxf6,h3,g4,hxg4,Bxg4,Qf2,Rf8,Nf3,Ne4,Qe3,Qg6,Nbd2,Bxf3,gxf3,Qg2,Rg1', 'Bh4+,Kd1,Nf2+,Qxf2,Qxf2', 'https://lichess.org/training/RB3yf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rb6UZ', 'Rapid', 'SKT_T1Ba', 1716, 'indrook', 1688, 'e4,e5,Nf3,d6,d4,Nd7,Nc3,c6,Bc4,h6,dxe5,dxe5,O-O,Be7,b3,Ngf6,Bb2,Qc7,Nh4,Nc5,Nf5,Bxf5,exf5,O-O,Re1,Rfe8,b4,Ncd7,Ne4,Bxb4,c3,Bf8,a4,Rad8,Qb3,Re7,Ba3,c5,Rad1,Rb8,Nd6,Kh7,Nxf7,b5,axb5,a6,Nd6,axb5,Nxb5,Qb6,Rd6,Qb7,Red1,Nb6,R6d2', 'Nxc4,Qxc4,Qxb5,Qxb5,Rxb5', 'https://lichess.org/training/Rb6UZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBapr', 'Rapid', 'Marce101', 1982, 'kuyu', 1778, 'd4,c5,d5,e6,c4,d6,e4,Nf6,Bd3,exd5,cxd5,Qa5+,Nc3,Qb4,f3,Nbd7,Ne2,Ne5,Bc2,Be7,O-O,Qb6,Kh1,O-O,h3,Qc7,Nb5,Qd7,a4,a6,Nbc3,Nh5,b3,Bh4,Kh2,Qe7,g3,Bg5,f4,Qd7,g4,Nxg4+,hxg4,Qxg4,fxg5,Qh3+,Kg1,Ng3,Kf2,Nxf1,Qxf1,Qh4+,Ng3,Bh3,Qg1,f5,e5,dxe5,Ke2,Qg4+,Kd2,f4,Bd1', 'Qxg3,Qxg3,fxg3', 'https://lichess.org/training/RBapr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBbwm', 'Rapid', 'VitaliiLg', 1695, 'sasa1234', 1973, 'd4,g6,Bf4,Bg7,e3,d6,Nc3,Nf6,Bd3,O-O,Nge2,Nc6,a3,e5,dxe5,dxe5,Bg5,a6,O-O,Qd6,Bxf6,Qxf6,Ne4,Qe7,c3,Rd8,Qc2,Be6,f4,f5,Ng5,e4,Bxe4,fxe4,Nxe4,Bf5,N2g3,Bxe4,Nxe4,Re8,Ng5,Qxe3+,Kh1,Na5,Qa4,b6,Qd7,Qc5,Qf7+,Kh8,b4,Qc4,Qd7,Nb3,Rae1,Rf8,Kg1,Rad8,Qh3,h6,Ne6,Rd3,Qg4,Rf6,Nxg7,Kxg7,Re7+,Rf7,Rfe1,Qxf4,Rxf7+,Qxf7,Rf1,Qd5,Qc8,Qd6,Qe8,Qd7', 'Qf8+,Kh7,Rf7+,Qxf7,Qxf7+', 'https://lichess.org/training/RBbwm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RbD50', 'Rapid', 'FilipKovac', 1681, 'Mayuare', 1679, 'd4,d5,c4,e6,Nc3,a6,Nf3,dxc4,Bg5,Be7,Bxe7,Nxe7,e3,b5,a4,Bb7,axb5,axb5,Rxa8,Bxa8,Nxb5,c6,Nc3,Qa5,Bxc4,Nd5,Qa4,Qxa4,Nxa4,Nb4,O-O,O-O,b3,Nd7,Rc1,Nd5,Bxd5,cxd5,Rc7,Nf6,Ne5,Ne4,f3,Nd6,g4,Nb5,Rc5,Nd6,Nb6,Bb7,Kf2,f6,Nd3,h6,Nf4,e5,dxe5,fxe5,Ne6,Rf7,Nxd5', 'Ne4+,Kg2,Nxc5', 'https://lichess.org/training/RbD50');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rBdTY', 'Blitz', 'IM Rider_Diaz', 2575, 'ali-sh', 2543, 'd4,e5,dxe5,d6,exd6,Bxd6,Nf3,Bg4,e3,Qe7,Be2,Nc6,Nd4,Bd7,Nxc6,Bxc6,Bf3,O-O-O,Nd2,Bxf3,Qxf3,Nf6,O-O,h5,Nc4,Ng4,Nxd6+,Rxd6,h3,Rg6,e4,Ne5,Qf5+,Kb8,Bf4,Nf3+,Kh1,Nh4,Qe5,Qd7,Rad1,Qc8,Bg3,Nxg2,Kxg2,h4,Qf5,Qe8,Rd3,a6,Rfd1,Qc6,Rc3,Qb6,Rb3,Qc6,Qd5,hxg3,Qxc6,Rxc6,Kxg3,Rxc2,Rd7,Rf8,h4,Kc8,Rdd3,b6,Rf3,f6,e5,Kb7,exf6,gxf6,Rf4,c5,Rbf3,Rxb2,Rxf6,Rxf6,Rxf6,c4,Rf3,b5,h5,Rd2,h6,Rd6,h7,Rh6', 'Rf7+,Kc6,Rf6+,Rxf6,h8=Q', 'https://lichess.org/training/rBdTY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBfaM', 'Blitz', 'Band_of_brothers', 2106, 'voldemar6691', 2096, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,Re8,Bf4,a6,a4,Bg4,Nd2,Nh5,Be3,Rxe3,fxe3,Qe7,e4,Bd4+,Kh1,Qe5,Nf3,Bxf3,exf3', 'Nxg3+,hxg3,Qh5+,Bh3,Qxh3#', 'https://lichess.org/training/RBfaM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rbFnO', 'Blitz', 'deathweaver516', 1556, 'pawne4d4', 1546, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,b6,Nf3,Bc5,Qd2,d6,Bc4,Be6,Bb5,Bd7,Qd5,Nb4,Bxd7+,Kxd7', 'Ne5+,Ke8,Qxf7#', 'https://lichess.org/training/rbFnO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RbgPp', 'Rapid', 'vit216', 1656, 'cem61', 1769, 'c4,e5,g3,Bc5,Bg2,Nf6,e3,O-O,Ne2,Nc6,a3,e4,Nbc3,a5,Nxe4,Nxe4,Bxe4,f5,Bg2,Ne5,d4,Nxc4,dxc5,Qf6,Bd5+,Kh8,Bxc4,c6,Nd4,d5,cxd6,Qxd6,Bd2,Qc5,Qc2,b5,Bd3,Qd5,Bxf5', 'Qxh1+,Ke2,Qxa1', 'https://lichess.org/training/RbgPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rBHeH', 'Blitz', 'iEndurance', 1784, 'OttoBlum', 1721, 'e4,d6,f4,Nf6,Nc3,c5,Nf3,Nc6,Bb5,Bd7,b3,a6,Be2,e6,Bb2,Be7,d4,cxd4,Nxd4,O-O,Qd2,b5,g4,Qb6,Nxc6,Bxc6,g5,Nxe4,Nxe4,Bxe4,Rf1,Bf5,O-O-O,Rac8,Bd3,Bg4,Rde1,Qc5,h3,Bxh3,Rh1,Bf5,Re2,Bxd3', 'Qxd3,Qf5,Qxf5,exf5,Rxe7', 'https://lichess.org/training/rBHeH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBHut', 'Rapid', 'ruufseir', 1858, 'Robert122', 1728, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,h6,d3,Be7,O-O,O-O,Be3,Nc6,h3,Na5,Bb5,a6,Ba4,b5,Bb3,Nxb3,axb3,Bb7,Re1,Re8,Qd2,Kh7,Nh4,Bc8,Nf5,Bxf5,exf5,Rc8,Ne4,Nxe4,dxe4,Bg5,Rxa6,Bxe3,Rxe3,c6,Rd3,d5,exd5,cxd5,Rxd5,Qc7,c3,Qb7,Rad6,b4,c4,Ra8,Kh2,Qe7,f3,Qh4,Qd3,f6,g3,Qg5,h4,Qc1,Qd2,Qb1,g4,Ra1,Qg2,e4,fxe4,Rxe4,Rd1,Qa2,Qxe4,Qxb2+,R1d2,Qc1,Qg2,Qe1,Re2', 'Qxh4+,Qh3,Rh1+,Kxh1,Qxh3+', 'https://lichess.org/training/RBHut');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rbJHL', 'Rapid', 'Guillaume56', 1661, 'bwest', 1717, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,h3,Qd4,Qf3,h5,d3,b6,Be3,Qd6,Bxc5,Qxc5,Be2,Bb7,Qg3,O-O-O,Qxg7,Qe7,O-O-O', 'Rdg8,Qxh8,Rxh8', 'https://lichess.org/training/rbJHL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBjpS', 'Rapid', 'anna11', 2143, 'somar_k', 2101, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,d4,cxd4,Nxd4,Nc6,Be3,g6,Nc3,Bg7,Qd2,a6,O-O,Nf6,Rad1,O-O,h3,Rfe8,f4,b5,a3,Rac8,Nf3,Na5,e5,Nc4,Qe2,Nh5,Kh2,Bh6,g3,Qf5,Nd4,Qd7,g4,Nxe3,Qxe3,dxe5,Nf5,Bxf4+,Rxf4,exf4,Qe5,Qe6', 'Nh6+,Kf8,Qh8#', 'https://lichess.org/training/RBjpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RbKXB', 'Rapid', 'TigerSiberian69', 2011, 'Syrikat', 1894, 'e4,e5,f4,d6,Nf3,Be7,Bc4,h6,O-O,Nf6,fxe5,dxe5,Nxe5', 'Qd4+,Kh1,Qxe5,d4,Qxe4', 'https://lichess.org/training/RbKXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RbL2i', 'Rapid', 'farag95', 1767, 'haganeee', 1770, 'e4,e6,d3,d5,e5,c5,Nf3,Nc6,c3,Nge7,d4,Nf5,Bg5,Qb6,b3,cxd4,cxd4,Nfxd4,Nxd4,Nxe5,Be3,Bc5,Nc3,Nc6,Na4', 'Qb4+,Bd2,Qxd4,Nxc5,Qxc5', 'https://lichess.org/training/RbL2i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RbmJP', 'Rapid', 'omch', 1817, 'crismosch', 1867, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Nxd4,Qxd4,Bf6,e5,Bh4,Qd5,Qe7,g3,c6,Qd3,Qxe5+,Be3,Bg5', 'f4,Bxf4,gxf4', 'https://lichess.org/training/RbmJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RbO18', 'Rapid', 'Jebotiger', 1919, 'TapL', 1957, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,d6,Nxc6,bxc6,O-O,Ba6,Re1,Qc7,f4,Nd7,Qg4,Qa5', 'Qxd7,Bxc3,bxc3', 'https://lichess.org/training/RbO18');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rbOuM', 'Rapid', 'pescaorEb', 2099, 'Chess_Talented', 2075, 'd4,c6,c4,d5,cxd5,cxd5,Nf3,e6,Nc3,Be7,Bf4,Nf6,e3,a6,Bd3,Nc6,O-O,O-O,Rb1,Nb4,Be2,Bd7,a3,Nc6,b4,Nh5,Na4,Nxf4,exf4,Bf6,Nc5,Rb8,Ne5,Be8,g4,g6,Qd2,Bg7,Rfd1,Qd6,Qe3,Ne7,Kg2,f6,Ned3,Bf7,h4,f5,g5,h6,Ne5,hxg5,hxg5,Bxe5,fxe5,Qd8,Rh1,Kg7,Rh6,Rh8,Qh3,Nc6,Rh1', 'Qxg5+,Qg3,Qxg3+,fxg3,Rxh6', 'https://lichess.org/training/rbOuM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBPe4', 'Blitz', 'hector88', 1823, 'jfmcarvajal', 1972, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,b5,f3,e5,Nf5,g6,Nh6,Nc6,Bg5,Nd4,Nd5,Be7,Nxe7,Qxe7,c3,Ne6,Bh4,Bb7,Qd2,Rd8,Ng4,g5,Bxg5,Nxg5,Qxg5,Nxg4,Qg7,Qf6,Qxg4,d5,O-O-O,dxe4,Rxd8+,Qxd8,fxe4,h5,Qg7,Rf8,Qxe5+,Kd7,Qxh5,Bxe4,Qg4+,f5,Qg7+,Ke8,Qe5+,Kf7,Be2,Qg5+,Kd1,Rd8+,Ke1,Qc1+,Kf2,Qxh1,Qc7+,Ke6,Qxd8,Qxg2+,Ke1,f4,Qb6+,Ke5,Qxa6,f3,Qxb5+,Kf4,Bf1,f2+,Kd1,Qf3+,Kc1', 'Qe3+,Kd1,Qe1#', 'https://lichess.org/training/RBPe4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rBpRm', 'Rapid', 'Hazem000khalil', 1889, 'LeXuSBisHOP', 1715, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bg5,Ne4,c3,Nxg5,Nxg5,Nc6,Bb5,a6,Ba4,h6,Qh5,g6,Qh4,Bg7,Nf3,b5,Bb3,e6,Qf4,O-O,Bc2,e5,Nxe5,Nxe5,dxe5,Re8,O-O,Bxe5,Qxh6,Bg7,Qf4,Bb7,Nd2,Rc8,Nf3,Rc4,Nd4', 'Bxd4,cxd4,Rxc2', 'https://lichess.org/training/rBpRm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rBqTx', 'Blitz', 'viranjanpagar', 1694, 'TherebuildingofRome', 1832, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bd3,Nf6,O-O,O-O,Bg5,h6,Bh4,d5,e5,g5,Bxg5,hxg5,exf6,Qxf6,Qh5,Bf5,Nd2,Bxd3,cxd3,Bd4,Nf3,Bxb2,Nxg5,Qg6,Qxg6+,fxg6,Rab1,Rab8,Ne6,Rf7,f4,Re7,Ng5,Bd4+,Kh1,Rxb1,Rxb1,Kg7,h3,Kf6,Rb8,Kf5,Rf8+,Bf6,g4+,Kxf4,Rxf6+,Kxg5,Rxc6,Kf4,Rxg6', 'Kg3,Rf6,Re1+,Rf1,Rxf1#', 'https://lichess.org/training/rBqTx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rBQuw', 'Rapid', 'VinhQuang', 1789, 'Paulinos', 1923, 'e4,c5,Nf3,Nc6,Nc3,Nf6,Bb5,e6,Bxc6,bxc6,e5,Nd5,Nxd5,cxd5,d4,Ba6,c3,Rb8,Qa4,Bd3,Qd1,c4,b3,Qa5,Qd2,Be7,bxc4,dxc4,h3,O-O,a3,Rb7,Bb2,Rfb8,Bc1,Rb3,Nh2,Bxa3,Bxa3,Rb1+,Rxb1,Rxb1+,Bc1,Qa1,Kd1,Qa4+,Ke1,Bc2,Ke2,Bd3+,Ke3,Qc6,f3,f5,g4,g5,Rg1,f4+,Kf2,a5,Bb2,Qb5,Rxb1,Bxb1,Nf1,Bd3,Qc1,Qb3,Nd2,Qb5,Qa1,Kf7,Qa3,Kg6,Qf8,Qxb2,Qg8+,Kh6', 'Qf8+,Kg6,Qf6#', 'https://lichess.org/training/rBQuw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rbQY7', 'Rapid', 'Lokendra_Rijal', 1700, 'karl18481977', 1703, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Qe2,d6,h3,Be7,c3,O-O,O-O,b5,Bc2,Bb7,Rd1,Na5,d4,Qe8,d5,Bc8,Bg5,c5,dxc6,Nxc6,b4,Ra7,a4,Bb7,axb5,axb5,Rxa7,Nxa7,Nbd2,Qc8,Qe3,Re8,Qxa7,Qxc3,Qxb7,Qxc2,Ra1,h6,Bxf6,Bxf6,Qxb5,Rf8,Qc4,Qb2,Rb1,Qa3,Qb3,Qa6,b5,Qb6,Rc1,Rb8,Rc6,Qa5,Rxd6,Bg5,Nc4,Qa1+,Kh2,Qf1,Nxg5,hxg5,f3,Qf2,b6,g4,Rd2', 'g3+,Kh1,Qe1#', 'https://lichess.org/training/rbQY7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBRV6', 'Blitz', 'ksalunkhe7', 1728, 'ITPVeer', 1766, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,Bg7,Bxf6,Bxf6,e3,c6,Nf3,O-O,cxd5,cxd5,Bd3,Nc6,a3,Bg4,h3,Bxf3,Qxf3,e6,g3,Bg7,h4,Qf6,Qxf6,Bxf6,g4,Bg7,h5,Rac8,Kd2,Na5,Bc2,Nc4+,Kc1,Rfd8,h6,Bf8,f4,Nxe3,Kd2,Nc4+,Ke2,Nxb2,Rab1,Bxa3,Nb5,Rxc2+,Kf3,Nc4,Nxa3,Nxa3,Rxb7,a5,f5,Nc4,fxg6,fxg6,Kg3,Rc3+,Kh4,a4,Rg7+,Kh8,Rf1,Nd6,Rf6,a3,Rxe6,a2,Ree7,a1=Q', 'Rxh7+,Kg8,Reg7+,Kf8,Rh8#', 'https://lichess.org/training/RBRV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rbsec', 'Rapid', 'CHESSkm8', 2244, 'soloman', 2227, 'g3,d5,Nf3,c5,Bg2,Nc6,O-O,e5,c4,d4,Qa4,Bd7,Qb3,Rb8,d3,f5,Nh4,Be7,Bxc6,bxc6,Qa3,Bxh4,gxh4,Qxh4,Qxa7,Rc8,Qxc5,Qg4+,Kh1,Qxe2,Nd2,Nf6,f3,Kf7,Rg1,Rhe8,Qa3,c5,Rg2,Qe1+,Rg1,Qh4,Qa7,Re7,Qb7,Qf2,Rg2,Qe1+,Rg1,Qe2,Rg2,Qxd3,b4,Be6,Rxg7+,Kxg7,Qxe7+,Bf7,Qxe5,cxb4,Qf4,Qe3,Qg3+,Kh8,Nb3,Qc3,Bg5,d3,Qd6,Nh5,Qd7,Rf8,Qxf5,Kg8,Rg1,Bg6,Qd5+,Kh8,Be3,Ng7,Bd4,Qc2,Qd7,Rg8,Nc5,Qe2,Rxg6,hxg6', 'Qh3#', 'https://lichess.org/training/rbsec');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBTdS', 'Classical', 'MurrMosha', 1859, 'iiivad', 1907, 'e4,c5,e5,Nc6,Nf3,d6,d4,dxe5,d5,Nd4,Nc3,Bg4,Bb5+,Nxb5,Nxb5,e4,h3,exf3,hxg4,fxg2,Rg1,Nf6,Rxg2,Nxd5', 'Qxd5,Qxd5,Nc7+,Kd7,Nxd5', 'https://lichess.org/training/RBTdS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBTXX', 'Blitz', 'Subhanshu', 1699, 'Theo20', 1742, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,e5,d5,Nce7,Bb5+,Bd7,Bxd7+,Qxd7,O-O,f5,Nc3,f4,Ng5,h6,Qh5+,g6,Qf3,hxg5,h3,g4,Qxg4,Qxg4,hxg4,Nf6,f3,Bg7,Nb5,Kd7,b3,a6,Nc3,Rh7,Ba3,b5,Rfc1,Rb8,Bb4,Rbh8,Kf2,Rh2,a4,bxa4,Nxa4,Nc8,Ba5,Ne8,Rc2,Bf6,Rac1,Bh4+,Kf1,Rh1+,Ke2,Rxc1,Rxc1,Bg3,Nb6+,Nxb6,Bxb6,Rh2,Rg1,Nc7,Kd3,Nb5,Kc4,Na3+,Kb4,Nc2+,Ka5,Ne3,Kxa6,Nxg2,b4,Ne3,b5,Nc4,Ra1,Kc8,Bg1,Rc2,b6,Kb8,Rb1,Rb2', 'Rxb2,Nxb2,b7,Nc4,Ba7+', 'https://lichess.org/training/RBTXX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rBU6t', 'Rapid', 'liffen', 1833, 'test_test', 1784, 'd4,Nf6,Bf4,e6,c3,d5,Nd2,c5,e3,Qb6,Qc2,Bd7,Ngf3,cxd4,exd4,Nc6,Bd3,Rc8,Qb3,Qa5,Qd1,h6,Nb3,Qb6,Qe2,a5,Rb1,Nh7,O-O,a4,Na1,g5,Be3,f5,Ne5,Nxe5,dxe5,Bc5,Bxc5,Rxc5,Nc2,O-O,Nd4,f4,Qg4,Bb5,Bxb5,Rxb5,Nxb5,Qxb5,Qxe6+,Kh8,Qxh6,Qd3,Qd6,f3,Rfd1,Qe4,Qxd5,Qg4,Qxf3,Rxf3,Rd4,Rf4,h3,Qh4,g3,Qxh3,gxf4,Qg4+,Kf1,Qh3+,Ke2,gxf4,Rxf4,Ng5,Rd1,Qh5+,Kd2,Nf3+,Kc2,Qxe5,Rxf3', 'Qe2+,Kc1,Qxf3', 'https://lichess.org/training/rBU6t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RbV7O', 'Classical', 'Snoozler', 1782, 'gambitada', 1854, 'c4,d5,cxd5,e6,Nc3,exd5,e3,Nf6,d4,Bb4,Bd2,O-O,Bd3,Re8,a3,Bd6,Nb5,Be7,Qc2,c6,Nc3,Bd6,Nf3,h6,h3,Be6,O-O,Nbd7,Rfe1,Rc8,b4,b6,Qd1,c5,e4,dxe4,Nxe4,Nxe4,Bxe4,cxd4,Nxd4,Rc4,Be3,Nf6,Qd3,Nxe4,Nxe6', 'Bh2+,Kxh2,Qxd3', 'https://lichess.org/training/RbV7O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rbvgA', 'Blitz', 'alex59150', 1981, 'TheSundanc3Kid', 1860, 'e4,c5,Nc3,g6,d4,cxd4,Qxd4,Nf6,Bb5,a6,Ba4,b5,Bb3,Nc6,Qe3,Bg7,f3,O-O,g4,Bb7,h4,h5,g5,Ne8,Nh3,Na5,Nf4,Nxb3,axb3,Rc8,Bd2,Qc7,Rg1,e6,Rc1,Qc6,Nfe2,d5,e5,Nc7,Nd4,Qd7,f4,b4,Na4,Nb5,Nb6,Qc7,Nxb5,axb5,Nxc8,Rxc8,Bxb4,Bf8,Qd4,Be7,Rg3,Bd8,Rc3,Qd7,Rxc8,Qxc8,Qc5,Qd7,Qf8+,Kh7,Ra1,Bc6,Ra6,d4,Rxc6,Qxc6,Qxf7+,Kh8,Qf8+,Kh7,Qxd8,d3,Qe7+,Kh8,Qf6+,Kh7,Qf7+,Kh8,Qf8+,Kh7,Qf7+,Kh8,Bf8,Qe4+,Kd1', 'Qe2+,Kc1,Qxc2#', 'https://lichess.org/training/rbvgA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RbVwe', 'Rapid', 'bvm-56', 1900, 'Akai', 1914, 'd4,c5,d5,d6,e4,Nf6,f3,g6,b3,Bg7,Bb2,O-O,Nd2,e6,c4,exd5,cxd5,Nbd7,Nc4,Nb6,h4,Re8,Be2,Nh5,g4,Ng3,Rh3,Nxe2,Bxg7,Nxg1,Rh1,Kxg7,h5,Nxc4,bxc4,Nxf3+,Qxf3,Qf6', 'h6+,Kf8,Qxf6', 'https://lichess.org/training/RbVwe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBxni', 'Rapid', 'ClaudiuCojo', 1868, 'Jimzowitsch', 1929, 'e4,e5,Nf3,f5,Nxe5,Nf6,d3,Bc5,Bg5,O-O,Be2,fxe4,dxe4,Bxf2+,Kxf2,Nxe4+,Kg1,Qxg5,Qd5+,Kh8,Nf7+,Rxf7,Qxf7,Qe3+,Kf1', 'Qc1+,Bd1,Qxd1#', 'https://lichess.org/training/RBxni');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rbY0q', 'Rapid', 'tibi23', 2086, 'Juho98', 2053, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,bxc6,O-O,Bc5,Be3,O-O,f3,Ng5,f4,Ne6,c3,f5,Kh1,Bxd4,cxd4,Rb8,b3,Bc8,Qe2,Rb6,Rf3,Ba6,Qc2,Qe7,Nc3,Qb4,Na4,Nxd4,Bxd4,Qxd4,Rd1,Qe4,Qxe4,fxe4,Rc3,Rbb8,g3,Be2,Rd4,Bf3+,Kg1,a5,h4,Rb4,Rxb4,axb4,Rxc6,d4,Rxc7,d3,Rd7,Rc8,e6,Kf8,Nb6,Rc1+,Kf2,Rc2+,Ke3,Re2+,Kd4,d2,Ke5,e3,Rd8+,Ke7,Rd7+,Ke8,Rxg7,Kf8,Rf7+,Ke8,Rxh7,Kd8,Rd7+,Ke8,Rh7,d1=Q', 'Rh8+,Ke7,Nc8#', 'https://lichess.org/training/rbY0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBy64', 'Classical', 'Playbabe', 2065, 'M_Gangana', 1760, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,d4,Bb5+,Nc6,Ne4,f5,Nd6+,Bxd6,cxd6', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/RBy64');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rBzan', 'Blitz', 'filemoncin', 2062, 'MahyAr1365', 2114, 'e4,d6,Nf3,c6,d3,Nd7,c3,Qc7,g3,e5,Bg2,Ngf6,O-O,Be7,Qc2,O-O,Nbd2,a6,Re1,b5,Nf1,Bb7,a4,Rfe8,b4,Nf8,Bb2,Ng6,h4,h5,Ng5,Rad8,d4,d5,dxe5,Nxe5,Ne3,dxe4,Nf5,Bf8,c4,bxc4,Nxe4,Nxe4,Qxe4,Nd3,Qxe8,Rxe8,Rxe8,Nxb2,Rae1,g6,R1e7,Qb6,Nh6+,Kg7,Rxf7+,Kxh6,Rexf8,Qd4,Rf6,c3,Be4,Qxe4,Rh8+,Kg7,Rhf8,Qe1+,Kh2,c2', 'R6f7+,Kh6,Rh8#', 'https://lichess.org/training/rBzan');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RBznT', 'Rapid', 'LordSucre', 2033, 'Spirngs', 1761, 'e4,e5,Nf3,d6,Bc4,Bg4,d4,Bxf3,Qxf3,Nf6,dxe5,dxe5,Qb3,Qe7,Qxb7,Qb4+,Qxb4,Bxb4+,c3,Bd6,Nd2,O-O,O-O,Nbd7,Bd5,Nxd5,exd5,Nf6,c4,Rab8,a4,Nd7,Ne4,Be7,Rb1,f5,Ng5,h6,Ne6,Rfc8,b3,c6,Be3,a6,Rfd1,f4,Ba7,Rb7,d6,Rxa7,dxe7,Kf7,Nc5,Kxe7,Ne4,Nf6,Nxf6,Kxf6,Rd6+,Kf5,f3,h5,Kf2,g5,g3,g4,gxf4,exf4,Re1,Rg7,Rde6,Kg5,fxg4,hxg4', 'R1e5+,Kh4,Rh6#', 'https://lichess.org/training/RBznT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rC0in', 'Blitz', 'romasa', 1962, 'Saydash', 1977, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,Ngf6,Bf4,e6,O-O-O,Be7,Kb1,Nd5,Bd2,Qb6,c4,N5f6,Ne4,Nxe4,Qxe4,Nf6,Qc2,O-O-O,Bc3,Rhg8,Ne5,Rgf8,f3,Qc7,g4,Nd7,Qa4,Nxe5,dxe5,Kb8,f4,Rxd1+,Rxd1,Rd8,Bd4,b6,Qc2,Rd7,Bf2,Qd8,Kc1,Kb7,b3', 'Ba3+,Kb1,Rxd1+,Qxd1,Qxd1#', 'https://lichess.org/training/rC0in');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rc2Qa', 'Classical', 'schnitzeldoern', 1636, 'madtrapper', 1668, 'e4,e5,Nf3,Bc5,Bc4,Nf6,d3,Bxf2+,Kxf2,Ng4+,Ke1,O-O,Nc3,Nf6,Nxe5,d6,Nf3,Nc6,a3,h6,Be3,Bg4,h3,Bxf3,Qxf3,Ne5,Qd1,c6,Ba2,b5,Rf1,d5,exd5,cxd5,Kf2,d4,Bf4,dxc3,Bxe5,cxb2,Rb1,Qb6+,Kg3', 'Qe3+,Kh2,Qxe5+', 'https://lichess.org/training/Rc2Qa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rC4Ce', 'Rapid', 'guvercinci', 1849, 'Jean-Mouloud', 1876, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bf5,d4,Nc6,c3,e5,Qe2,e4,Bf4,O-O-O,Ne5,Nxe5,Bxe5,f6,Bg3,h5,h4,Bg4,Qb5,Qc6,Qxc6,bxc6,Be2,Bxe2,Kxe2,Bd6,Bxd6,cxd6,Ke3,d5,Rh3,g5,a4,g4,Rhh1,f5,Kf4,Rdf8,b4,Kd7,Rhb1,a6,b5,axb5,axb5,cxb5,Rxb5,Kc6,Rba5,Rb8,R1a3,Rb2,Ra6+,Rb6,Rxb6+,Kxb6,Kxf5,Rf8+,Kg5,Rxf2,Kxh5,e3,Rb3+,Kc6,Kxg4', 'e2,Rb1,Rf1,Re1,Rxe1', 'https://lichess.org/training/rC4Ce');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rc4YY', 'Rapid', 'YureMota', 1707, 'juaraone', 1840, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nf3,Nf6,Bg5,Bg4,Qe2+,Qe7,Bxf6,gxf6,Qxe7+,Bxe7,Nbd2,Nd7,O-O,O-O-O,Rfe1,Bd6,h3,Bxf3,Nxf3,Nb6,Bf5+,Kb8,c3,Nc4,b3,Na3,Kf1,Bf4,Re7,Nb5,g3,Bd6,Re3,h5,h4,Rhe8,Rc1,Rxe3,fxe3,Bxg3,Kg2,Bxh4,Nxh4,Nd6,Rg1,Rg8+,Kh2,Re8,Rg3,c6,Kg2,Nb5,e4,dxe4,Re3,Nd6,Kg3,Rg8+,Kf4,Rg5,Bxe4', 'Rg4+,Kf3,Rxh4', 'https://lichess.org/training/Rc4YY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rc56Z', 'Rapid', 'Chico36', 1869, 'momo_klaus', 1929, 'Nf3,Nf6,g3,b6,Bg2,Bb7,O-O,Nc6,c4,e6,Nc3,d5,b3,dxc4,bxc4,Bd6,Bb2,O-O,d4,Ne7,Re1,c5,d5,exd5,Ng5,h6,Nf3,dxc4,Nb5,Bc7,Nxc7,Qxc7,Qc1,Nh7,Qc3,f6,Qxc4+,Bd5,Qg4,Qc6,Nh4,Bxg2,Nxg2,Rad8,Rad1,b5,Nf4,Rxd1,Rxd1,Qe4,Qe6+,Qxe6,Nxe6,Rc8,Rd7,Re8,Nxc5,a5,Nb7,Nc6,e3,Ng5,Kg2,Ne4,Nd6,Nxd6,Rxd6,Rc8,Rd5,b4,Kf3,Kf7,Ke4,Ke6,Rc5,a4,a3,b3,Rc4', 'f5+,Kd3,Ne5+,Bxe5,Rxc4,Kxc4,Kxe5', 'https://lichess.org/training/Rc56Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RC5Wl', 'Rapid', 'HeadlessChicken', 1698, 'pietropaolo', 1830, 'e4,e5,Nf3,Nc6,Bb5,Be7,O-O,d6,Re1,Nf6,d4,exd4,Nxd4,Bd7,Ba4,O-O,c3,a6,Bc2,Re8,Qd3,Ne5,Qg3,Nh5,Qe3,Nc4,Qe2,Ne5,Qxh5', 'Bg4,Qxg4,Nxg4', 'https://lichess.org/training/RC5Wl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rc71G', 'Rapid', 'anatolin', 1719, 'Chessplaya01', 1764, 'Nf3,e6,g3,d5,Bg2,c5,O-O,b5,d3,a5,e4,Bb7,e5,Ne7,c3,c4,d4,Nec6,a3,a4,Nbd2,Na5,Nh4,Be7,Nhf3,Nb3,Nxb3,axb3,Nd2,b4,cxb4,Bxb4,Rb1,Ba5,f4,Nc6,Nf3,Qb6,Kh1,Qa7,g4,Bb6,Be3,O-O-O,h3,Rdf8,f5,exf5,gxf5,Ne7,Nh4,Kb8,e6,fxe6,fxe6,Bc8,Qg4,g6,Rbd1,Qc7,Bf4,Rxf4,Rxf4,h5,Qf3', 'g5,Rf7,gxh4', 'https://lichess.org/training/Rc71G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RC8KX', 'Rapid', 'PositionalStyle', 2311, 'FM szeprozse', 2403, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Nc6,e3,Nf6,Nc3,a6,Be2,Bf5,Nf3,h6,Qb3,Na5,Qa4+,b5,Bxb5+,axb5,Nxb5,Bd7,Bc7,Nc6,Qc2,Qc8,Bb6,Qb7', 'Nc7+,Qxc7,Bxc7', 'https://lichess.org/training/RC8KX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rCaMu', 'Rapid', 'belyi_amur', 1912, 'feight1', 1858, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,Nxd4,Nf6,Bd3,e5,Ne2,Be7,O-O,O-O,Re1,Be6,Nd2,Nd7,Nf1,Qb6,Neg3,Nc5,Bc2,Rad8,Qh5,Bc4,Nf5,g6,Nh6+,Kg7,Qg4,Bd3,Nf5+,Kg8,Nxe7+,Nxe7,Bxd3,Nxd3,Re3,Nxc1,Rxc1,Qxb2,Rd1,Qxa2,Qg5,Qe6,Rh3,f6,Qh6,Qf7,Ne3,Qg7,Qh4,f5,exf5,Nxf5', 'Nxf5,gxf5,Rg3', 'https://lichess.org/training/rCaMu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RCbDq', 'Blitz', 'NM NB4', 2535, 'FM david_gomez', 2572, 'Nh3,g5,Ng1,g4,h3,g3,fxg3,c5,Nf3,Qc7,Kf2,e5,e4,Nf6,d3,d5,Nc3,d4,Ne2,Be6,Bg5,Nbd7,g4,Rg8,Bh4,Bxg4,hxg4,Nxg4+,Ke1,Bh6,Ng3,Ne3,Qe2', 'Qa5+,Nd2,Nxc2+', 'https://lichess.org/training/RCbDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rcDK8', 'Rapid', 'Hamroxon', 1739, 'rat-for-breakfast', 1716, 'e4,e6,d4,d5,e5,c5,Be3,cxd4,Bxd4,Nc6,Bb5,Bd7,Bc3,Nxe5,Bxd7+,Nxd7,Qg4,Ngf6,Qg3,h5,Nf3,Ne4,Qf4,Nxc3,Nxc3,Qf6,Qc7,Qd8,Qxb7,Nc5,Qb5+,Nd7,Qe2,Bc5,O-O,Rb8,b3,Kf8,a3,Nf6,b4,Be7,Ne5,Bd6,Nc6,Qc7,Nxb8,Qxc3,Qa6,Bxb8,b5,Qc7,Rab1,Qb6,Qc8+,Ne8,a4,Bd6,Qc6,Rh6,Ra1,Rf6,a5,Qxc6,bxc6,e5,Rab1,e4,Rb7,a6,Ra7,Bc5,Rxa6,g6', 'c7,Rxa6,c8=Q', 'https://lichess.org/training/rcDK8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RCdMg', 'Blitz', 'TimePassOnly', 2005, 'Shanmukhareddy', 1974, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Be2,Nf6,O-O,Bg4,c4,e6,cxd5,Nxd5,Nc3,Be7,h3,Bh5,Ne5,Bxe2,Qxe2,Nxd4,Qg4,Nf5,Qa4+,Kf8,Nd7+,Kg8,Nxd5,exd5,Re1,a6,Ne5,Bf6,Bf4,h5,Rad1,g6,Nd7,b5,Nxf6+,Qxf6,Qc2,Kh7,Be5,Qg5,Bxh8,Rxh8,Rxd5,Rd8,Rxd8,Qxd8,Qb3,Kg8,Rd1,Qg5,Qc3,Nh4,Qc8+,Kh7,Qb7,Kg7,Qc6,a5,Qc3+,Kh7,Qg3,Qf6,Rd6,Qe7,Rc6,Nf5,Qf4,Kg7,g4,hxg4,hxg4,Qe1+,Kg2,Nh4+,Kg3,g5,Qxg5+,Ng6,Qf6+,Kh6,g5+,Kh5,Qf3+,Kxg5,Rc5+,Kh6,Qh5+,Kg7,Rg5,Qg1+,Kh3,Qh1+,Kg3,Qg1+,Kf3,Qd1+,Ke3,Qc1+,Kd3,Qb1+,Kc3,Qc1+,Kb3', 'Qc4+,Ka3,Qa4#', 'https://lichess.org/training/RCdMg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rCEiA', 'Rapid', 'jimikar97', 1612, 'Johnnyhammer', 1614, 'e4,e5,Nf3,Nc6,d4,Qe7,d5,Qb4+,Bd2,Qxe4+,Be2,Qxd5,Nc3,Qd6', 'Nb5,Qe7,Nxc7+', 'https://lichess.org/training/rCEiA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rcey0', 'Rapid', 'SlackWyrm', 1934, 'elpardo', 1949, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,Nbd7,e3,Be7,cxd5,exd5,Bd3,O-O,O-O,Re8,Rc1,Ne4,Bxe7,Qxe7,a3,f5,b4,a6,Na4,a5,Nc5,axb4,axb4,b6,Nxd7,Bxd7,b5,c5,dxc5,bxc5,b6,c4,Bxe4,Qxe4,Qd4,Qxd4,Nxd4,Rab8,Rb1,f4,exf4,Re4,Rfd1,Rxf4,Nf3,Bc6,Ne5,Bb7,Nd7,Rc8,Ra1,Ra8,Rxa8+,Bxa8,Nc5,c3,Kf1,c2,Rc1,Rc4', 'b7,Bxb7,Nxb7', 'https://lichess.org/training/rcey0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RcfNa', 'Rapid', 'Alexander063', 1686, 'GabrY92', 1606, 'e4,c5,Bc4,d6,Nf3,g6,O-O,Bg7,Re1,Bg4,Be2,Nf6,Nc3,Bxf3,Bxf3,e5,d3,O-O,Nd5,Nbd7,c4,a6,Rb1,b5,b3,Nxd5,cxd5,Rb8,Bg4,Nf6,Bh3,c4,f4,Qa5,Re2,cxd3,Qxd3,exf4,Bxf4,b4,Bxd6', 'Qb6+,Kh1,Qxd6,e5,Qxd5', 'https://lichess.org/training/RcfNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RcgEQ', 'Classical', 'RisingForce', 1888, 'Hosseinamator', 1839, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,d4,exd4,Nxd4,Bd7,Bxc6,bxc6,Nc3,Be7,Re1,O-O,Bg5,Ng4,Bxe7,Qxe7,Nxc6,Qh4,h3,Nxf2,Qd5,Nxh3+,gxh3,Qg3+,Kf1,Bxh3+,Ke2,Bg4+,Kd2,Qf4+,Re3,Rae8,Nd4,Re5,Qc4,Rh5,Rf1', 'Rh2+,Kc1,Qxe3+', 'https://lichess.org/training/RcgEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RCHJU', 'Rapid', 'GardongGahasa', 1940, 'KatilBedo03', 1983, 'e4,e6,Nf3,d5,exd5,exd5,d4,c5,Be2,cxd4,Nxd4,Nf6,O-O,Bc5,Re1,O-O,c4,dxc4,Be3,Re8,Bxc4', 'Bxd4,Bxd4,Rxe1+,Qxe1,Qxd4', 'https://lichess.org/training/RCHJU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rCHmo', 'Blitz', 'nicholaipushkin', 1820, 'MAANNNAAV-08', 1778, 'Nf3,d5,c4,c5,cxd5,Qxd5,Nc3,Qd8,e4,g6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Bg7,Nd5,Ne5,Nxe5,Bxe5,f4,Bg7,Qb3,b6,Qb5+,Kf8,f5,Nf6,Nxf6,Bxf6,fxg6,fxg6,Qc4,Kg7', 'e5,Qd4+,Qxd4,cxd4,exf6+', 'https://lichess.org/training/rCHmo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RCIYP', 'Classical', 'byte2eat', 1689, 'gallium_oxide', 1714, 'e4,Nf6,e5,Nd5,d4,e6,Nf3,c5,Bc4,h6,O-O,Be7,Be3,cxd4,Bxd4,O-O,Nc3,Nxc3,Bxc3,b6,Qe2,d5,exd6,Bxd6,Rad1,Qe7,Bd3,Bb7,Be4,Bxe4,Qxe4,Nd7,a3,Nf6,Bxf6,gxf6,Qg4+,Kh8,Rd2,f5', 'Qd4+,Kg8,Qxd6,Qxd6,Rxd6', 'https://lichess.org/training/RCIYP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RCKUQ', 'Blitz', 'danimal1201', 1721, 'diogo43', 1695, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,Nf6,a3,d6,h3,Be6,Nd5,Nd4,Nxd4,Bxd4,O-O,Nxd5,exd5,Bd7,Bb3,Qf6,c3,Bb6,Kh1,O-O-O,Be3,Qg6,Bc4,f5,Qb3,f4,Bxb6,axb6,a4,Qe8,a5,b5,a6,b6,a7,Kb7,Qa3,Ka8,Bb3,Bc8,c4,Bb7,Qb4,g5,cxb5,g4,hxg4,Qg8,Ra6,Bxa6,bxa6,Kxa7,Qb5,Qe8,Qc4,Qd7,Ba4,Qe7,Qc6,Rb8,Bb5,h5,Kg1,hxg4,Rc1,Rh7,Ra1,Qh4', 'Qb7+,Rxb7,axb7+,Kxb7,Bc6+,Kc8,Ra8#', 'https://lichess.org/training/RCKUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rcLMa', 'Rapid', 'Zouher-Gh', 1634, 'alephnuII', 1662, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd3,d6,a3,g6,h3,f5,exf5,Bxf5,Qe2+,Be7,Bg5,Nh6,Bxh6', 'Nd4,Qc4,Nxc2+,Kd1,Nxa1', 'https://lichess.org/training/rcLMa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RCLMB', 'Classical', 'Hozaifa100', 1917, 'Ahmedabdelmoaty', 1736, 'e4,e5,c3,Nf6,d3,Bc5,Be3,Bxe3,fxe3,d6,h3,Nxe4,dxe4,Qh4+,Kd2,Qxe4,Nf3,Bf5,Be2,Nc6,Re1,O-O-O,Bb5', 'Qd5+,Kc1,Qxb5', 'https://lichess.org/training/RCLMB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rcmN5', 'Classical', 'Costinhajogaofino', 1765, 'henry901', 1862, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Neg5+,Kg8,d4,e4,Ne5,Nxe5,dxe5,h6,Nxe4,Bf5,Ng3,Bg6,f4,Bc5,f5,Be8,Qg4,Qe7,Bf4,h5,Qf3,c6,O-O-O,h4,Ne2,Bh5,Qd3,Rf8,Rde1,Bb6,Rhf1,Bc7,Nd4,Re8,Ne6,Ba5,c3,Qd7,Bg5,Rxe6,fxe6,Qxe6,Qf5,Qxf5,Rxf5,Bg6,Rf4,Bc7,Rxh4,Rxh4,Bxh4,Kf7,e6+,Ke8,h3,Bf4+,Kd1,Be4,g3,Bh6,Rxe4,dxe4,Ke2', 'g5,Bxg5,Bxg5', 'https://lichess.org/training/rcmN5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rcNLp', 'Blitz', 'Stan_sand', 1871, 'Djaiman', 1910, 'e4,e5,f4,exf4,Nf3,h6,Bc4,g5,d4,d6,O-O,Be6,Bb3,a5,a4,Nc6,d5,Bd7,dxc6,Bxc6,e5,d5,c4,Ne7,cxd5,Nxd5,Bxd5,Bxd5,Nc3,Bc5+,Kh1,c6,Nxd5,cxd5,Bd2,b6,Rb1,O-O,b4,axb4,Bxb4,Bxb4,Rxb4,Re8,Re1,Re6,Nd4,Rg6,Qd3,Qe7,e6,Qxb4,exf7+,Kxf7,Rb1,Rxa4,Rd1,Kg7,h3,Ra3,Nf5+,Kf6,Qxd5,Qc5,Qd8+,Kf7,Rd7+,Ke6,Qe8+,Kxf5,Rf7+,Rf6,Qd7+,Kg6', 'Rg7+,Kh5,Qg4#', 'https://lichess.org/training/rcNLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RCnoc', 'Classical', 'Monster1234', 1918, 'elschemali', 1895, 'c4,Nf6,Nc3,g6,e4,d6,g3,Bg7,Bg2,O-O,d4,Nbd7,Nf3,e5,dxe5,dxe5,O-O,b6,h3,Bb7,Re1,Re8,Bg5,h6,Bxf6,Nxf6,Qc2,c6,Rad1,Qc7,Qb3,Nd7,Na4,Rab8,Nh4,Kh7,c5,Nxc5,Nxc5,bxc5,Qf3,Bc8,b3,Be6,Bf1,Rbd8,Bc4,Bxc4,bxc4,Qa5', 'Qxf7,Rf8,Qxg6+', 'https://lichess.org/training/RCnoc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rcnoZ', 'Rapid', 'sabrydispenser82', 1887, 'astanaz', 1833, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nxc6,bxc6,Nc3,Be7,Qf3,Nf6,Bg5,h6,Bxf6,Bxf6,O-O-O,Rb8,b3,Qe7,Bc4,Be6,Qd3,Bxc4,Qxc4,O-O,Qxc6,Rb6,Qc4,Bxc3,Qxc3,Qxe4,f3,Qf4+,Kb1,c5,g3,Qf5,f4,Re8,Qc4,Re4,Qd3,c4,Qf3,cxb3,axb3,Reb4,Rd3,Qf6,Qa8+,Kh7,Qxa7,d5,Rhd1', 'Ra6,Qxa6,Qxa6', 'https://lichess.org/training/rcnoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RcnYQ', 'Classical', 'Arspod4586', 1892, 'Adriano-NXN', 1994, 'e4,c6,d4,d5,exd5,cxd5,Bf4,Nf6,Bd3,Nc6,c3,Bg4,Qb3,Qd7,Nd2,e6,Ngf3,Bd6,Bxd6,Qxd6,a3,O-O,h3,Bh5,O-O,a6,Be2,Bg6,Rfe1,h6,Nf1,Ne4,Ng3,Nxg3,fxg3,b5,g4,Rab8,Rad1,Qf4,Bd3,Bxd3,Rxd3,Na5,Qc2,Nc4,Nd2,Rb7,Nxc4,bxc4,Rd2,Rfb8,Ree2,Rb3,Qc1,R8b7,Qf1,Qb8,Qf2,R7b6,Kf1,Qh2,Qg1,Qf4+,Qf2,Qb8,Kg1,a5,Kf1,f5,gxf5,exf5,Qxf5', 'Rf6,Qxf6,gxf6', 'https://lichess.org/training/RcnYQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RcP1F', 'Blitz', 'halimansour', 2114, 'NM gameoverbro', 2493, 'e4,d6,d4,Nf6,Nc3,e5,Nge2,c6,f3,h5,Be3,Nbd7,Qd2,a5,h4,a4,Bg5,Qa5,dxe5,dxe5,a3,Be7,Ng3,g6,Bc4,Nc5,Bh6,Be6,Bxe6,Nxe6,O-O-O,Rd8,Qe3,Nd4,Bg7,Rg8,Bxf6,Bxf6,Nge2,Qa7,f4', 'Nb3+,cxb3,Qxe3+', 'https://lichess.org/training/RcP1F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RcPuL', 'Rapid', 'Mr_Cool_Abdul', 1852, 'BananaSalinas', 1793, 'e4,c6,Qf3,d5,e5,Qc7,d4,c5,Qxd5,e6,Bb5+,Nc6,Bxc6+,bxc6,Qf3,cxd4,Qf4,c5,Ne2,Qa5+,Bd2,Qb6,Bc1,Ne7,Qf3,Bb7,Qg3,Nf5,Qb3,Bxg2,Rg1,Bd5,Qxb6,axb6,Na3,Bc6,c3,Nh4,Kd1,Be7,cxd4,cxd4,Nc4,Nf3,Rxg7,b5,Nd6+,Bxd6,exd6,Rd8,Bf4,e5,Bd2,Rxd6,a4,bxa4,b3,Bb5,Bb4,Ra6,bxa4,Rxa4,Rxa4,Bxa4+,Kc1,d3,Ng3,Nxh2,Nf5,Nf3,Nd6+,Kd7,Rxf7+,Ke6,Rxf3,Rb8,Ne4,Rxb4,Ng5+,Ke7,Rf7+,Kd6,Rxh7,Bc2,Rh6+,Kd5,Ne6,Rb1+,Kd2,Rd1+,Kc3,Rf1,Nc7+,Ke4,Rh4+,Kf3,Rh3+,Kxf2,Ne6,Kg2,Re3,Rf3,Rxe5,Kf1,Nd4,Rf2,Re3,Bb1,Nf3,Kg2,Ne1+,Kf1,Nxd3,Bxd3,Rxd3,Ke1,Re3+,Re2,Rh3,Ra2', 'Rh1+,Ke2,Rh2+,Ke3,Rxa2', 'https://lichess.org/training/RcPuL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rCQtO', 'Rapid', 'ClesioMiranda', 1721, 'tearuanewone', 1676, 'e4,e5,Nf3,d6,h3,h6,Bc4,Nf6,d3,Nc6,O-O,Be7,a3,O-O,c3,Be6,Bb5,d5,Bxc6,bxc6,Nxe5,Qd6,Bf4,Qc5,exd5,Nxd5,d4,Qb6,Bc1,Bf6,c4,Ne7,c5,Qb7,f4,Rfd8,Qa4,Bd5,Nc3,Bxg2,Kxg2,Bxe5,fxe5,Ng6,Qc4,Rf8,e6,Kh7,Rxf7,Rxf7,exf7,Rf8,Be3', 'Qxb2+,Ne2,Qxa1', 'https://lichess.org/training/rCQtO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RcRQh', 'Rapid', 'semihaydin', 1779, 'Walid1980', 1811, 'e4,c5,c4,e6,Nc3,Nf6,d3,h6,g3,Nc6,Bg2,Nd4,Nge2,e5,O-O,b6,Nxd4,cxd4,Nd5,Bb7,Qf3,Nxd5,exd5,d6,Re1,Qe7,Bf4,h5,Bh3,g5,Bxe5,dxe5,Qf5,f6,Qg6+,Qf7', 'Bd7+,Kxd7,Qxf7+', 'https://lichess.org/training/RcRQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rcRra', 'Classical', 'Maelstr0m', 1742, 'Misha020', 1661, 'd4,c6,c4,e6,Nc3,h6,Nf3,Na6,e3,Nf6,a3,Be7,Bd3,c5,d5,exd5,cxd5,d6,Bxa6,bxa6,Qa4+,Nd7,O-O,O-O,Bd2,Nb6,Qc2,Rb8,Rfb1,Bg4,Ne1,Bf6,e4,Be5,h3,Qh4,hxg4,Bh2+,Kf1,Qxg4,Nf3,Be5,Nxe5,dxe5,Be3,Nc4,Bxc5,Rfe8,b3,Rxb3,Rxb3,Qf4,Rd1,Re7,Bxe7,Ne3+,Kg1,Nxc2,d6,Nd4,d7,Ne6,d8=Q+,Nxd8,Bxd8,g5,Rb8,Kg7,Ra8,h5,Rxa7,g4,Bb6,h4,Be3,Qf6,Nd5,Qc6,Re7,Qc2,Re1,Qb2,Bg5,h3,gxh3,gxh3,Ne3,Qxa3,Rxe5,f6,Nf5+,Kf7,Re7+,Kf8,Bxf6,Qf3,Bg7+,Kg8,Nh4,Qg4+,Kh2,Qxh4,Be5,Qxe7,Bg3,Qe6,e5,Kh7,Rd1,a5,Rd6,Qe8,Kxh3,a4,e6,a3,Ra6,Qh5+,Kg2,Qd5+,Kh2,a2,e7,Qf7,Bh4,Qf4+,Bg3,Qf7,Bh4,Qh5,Kh3,Qf5+,Kg2,Qd5+,Kh3,Qd7+,Kh2,Qc7+,Kh3', 'Qc8+,Kh2,Qxa6', 'https://lichess.org/training/rcRra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RCrTt', 'Rapid', 'GoceGorgiev39', 1715, 'pendru', 1839, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,e5,h6,Bd2,Nfd7,Nf3,c5,dxc5,Nxc5,a3,Bxc3,Bxc3,Nc6,Be2,O-O,b4,Nd7,O-O,Qc7,Bb2,Ndxe5,Nxe5,Nxe5,Qd4,f6,f4,Nf7,Bd3,Rd8,Rae1,b6,Bg6,a5,b5,Bd7,a4,Rac8,Kh1,Qc5,Bd3,Qxd4,Bxd4,Rb8,h3,Nd6,g4,Kf7,g5,hxg5,fxg5,Nf5,Bxf5,exf5,gxf6,gxf6,Rf4,Rh8,h4,Rbc8,Re2,Rc4,c3,Rxa4,Rff2,Rxh4+,Rh2,Ra1+,Kg2,Rg4+,Kf3,f4', 'Rh7+,Rg7,Rxg7+,Kxg7,Re7+,Kg6,Rxd7', 'https://lichess.org/training/RCrTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rcRXZ', 'Rapid', 'ahmedalaub', 1995, 'Kramnik1993', 1901, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Be7,a4,bxa4,Bxa4,Nf6,d3,O-O,O-O,Bb7,Bxc6,dxc6,Nxe5,Bd6,Nf3,Ng4,h3,Ne5,Nd4,Qh4,Nf5,Qf6,f4,Ng6,Qg4,Bc5+,Kh1,Bc8,Ra5,Bxf5,exf5,Bb6,fxg6,Bxa5,gxh7+,Kh8,Nd2,Bxd2,Bxd2,Qg6,Qd7,Rfe8,Bc3,Re2,g4,Qxh7,Rf3,Rae8,Qxf7,Qh6,Qxc7,R2e3,Qd7,Rxf3', 'Qxe8+,Kh7,Qe4+', 'https://lichess.org/training/rcRXZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RCtPU', 'Rapid', 'kartalizm', 1733, 'patdedem', 1802, 'g3,e5,Bg2,d5,d3,c6,c3,Be6,Nd2,Be7,Qc2,Bg5,e3,Ne7,f4,exf4,exf4,Bh6,Ngf3,Bg4,O-O,Bxf3,Nxf3,Nd7,c4,dxc4,Qxc4,O-O,Ng5,Bxg5,fxg5,Nb6,Qe4,Re8,Qf4,Qxd3,Qxf7+,Kh8,Bf4,Ned5,Rad1,Qc4,Bd6,Qxa2,g6,h6,Be5,Rg8,Qxb7,Qc4,Rf7,Qe2,Bxg7+,Rxg7,Rxg7', 'Qxd1+,Bf1,Qd4+', 'https://lichess.org/training/RCtPU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rcU0u', 'Rapid', 'joses1', 1732, 'Delpire', 1753, 'd4,Nf6,c4,c5,d5,e6,Bg5,exd5,cxd5,d6,Nc3,g6,e4,Bg7,f4,O-O,Nf3,Re8,Bd3,Nbd7,O-O,Qc7,Bb5,a6,Bxd7,Bxd7,Re1,Qb6,Re2,Bg4,Rf2,Nd7,h3,Bxf3,Qxf3,Bd4,Kh2,Bxf2,Qxf2,Qb4,f5,f6,Bh6,Ne5,fxg6,Qd4,Qxf6', 'Ng4+,hxg4,Qxf6', 'https://lichess.org/training/rcU0u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rcV1E', 'Rapid', 'rsepulveda', 1912, 'FuneChess', 1741, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c4,Bb4+,Bd2,Qb6,Bxb4,Qxb4+,Qd2,Na6,a3,Qxd2+,Nbxd2,Nc7,Rc1,Rc8,Be2,Ne7,O-O,dxc4,Nxc4,O-O,Nd6,Rcd8,b4,Ncd5,Nxb7,Rb8,Nd6,Nf4,Rfe1,Bd3,Bf1,Bxf1,Kxf1,Nd3,Nd2,Nxe1,Kxe1,Nf5,N2e4,Nxd4,f4,Nb5,Rxc6,Nxa3,Ra6,Nc2+,Kf2,Nxb4,Rxa7,Nd5,g3,Rb2+,Kf3,Rxh2,Ng5,f6,Nxe6,fxe5,Rxg7+,Kh8,Nf7+,Rxf7,Rxf7,Kg8', 'Rf8#', 'https://lichess.org/training/rcV1E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rcWlC', 'Rapid', 'AguaGelada', 1781, 'Bason71', 1864, 'd4,d5,c4,Nc6,Nf3,e6,Nc3,Bb4,Qc2,e5,cxd5,Qxd5,e3,exd4,exd4,Nxd4,Nxd4,Qxd4,Be3,Qe5', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/rcWlC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rCxBt', 'Rapid', 'cengi1', 1925, 'W-Jarosch', 2017, 'd4,Nf6,f4,d5,Nf3,c5,e3,e6,c3,Nc6,Bd3,Bd6,O-O,Ne4,Nbd2,f5,Ne5,Qc7,Ndf3,a6,Bd2,b5,a3,h6,Ng6,Rg8,Nfe5,Bb7,Bxe4,fxe4,Qh5,O-O-O,Qg4,Rde8,a4,b4,dxc5,Bxc5,cxb4,Bxb4,Bxb4,Nxb4,Rfc1,Nc6,Nxc6,Bxc6,Ne5,Kb7,Rc3,Qb6,Rxc6,Qxe3+,Kh1,Rc8,Qxe6,Rge8,Qd7+,Kb8,Qd6+,Kb7,Qb4+,Ka7,Rxc8,Rxc8,Qe7+,Ka8,Rg1,Rc1,Qd8+,Kb7,Qxd5+,Ka7,Qd7+,Ka8,Qd8+,Kb7,Rd1', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/rCxBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rCxlT', 'Rapid', 'Retikiller', 2254, 'FireBishop', 2233, 'Nf3,Nf6,c4,g6,b3,Bg7,Bb2,O-O,g3,c5,Bg2,Nc6,O-O,d5,cxd5,Nxd5,Bxg7,Kxg7,d3,e5,Nbd2,Nc3,Qc2,Nxe2+,Kh1,Nb4,Qxc5,Nxd3,Qe3,Nc3,Nxe5,Nxe5,Qxe5+,Qf6,Qxf6+,Kxf6,a4,Bf5,Rac1,Rfd8,Rxc3,Rxd2,Bxb7,Rb8,Rc7', 'Rxb7,Rxb7,Be4+,Kg1,Bxb7', 'https://lichess.org/training/rCxlT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rCZ9E', 'Rapid', 'Capix007', 1629, 'its_winning', 1879, 'e4,d5,exd5,Qxd5,Nf3,Qa5,Nc3,c6,d4,Bg4,Bd2,Qc7,Be2,Nd7,d5,e6,dxe6,Bxe6,O-O,Ngf6,h3,Be7,Nd4,Bd5,Nf5,Nb6,Nxd5,Nbxd5,Nxg7+,Kf8,Bh6,Kg8,Nf5,Ne4,Bg7,Bd6,Bxh8,Bh2+,Kh1,Ng3+,Kxh2', 'Nxf1+,Kg1,Qh2+,Kxf1,Qh1#', 'https://lichess.org/training/rCZ9E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RCzer', 'Blitz', 'The_Big_Man_Stan', 2175, 'LEZGIN-05', 2179, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,g6,Nf3,Bg7,h3,a6,a4,O-O,Bc4,Be6,Bxe6,fxe6,e5,Ne8,Ng5,Qc8,O-O,dxe5,dxe5,Bxe5,Re1,Nc6,Qg4,Ng7,Qh4,h5,Qe4,Rf5,g4,Bxc3,bxc3,Re5,Qxg6,Rxe1+,Kg2,Ne5', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/RCzer');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RczPG', 'Rapid', 'Jameslov', 1804, 'Huskygaze3', 1751, 'e4,b6,f4,Bb7,Nc3,e6,Nf3,Bb4,e5,Ne7,a3,Bxc3,bxc3,d6,d4,Nd7,exd6,cxd6,Bd3,Rc8,Bb2,Nd5,Be4,Qc7,Qd2,N7f6,Bd3,O-O,c4,Ne7,O-O,Rfd8,d5,exd5,Bxf6,gxf6,cxd5,Nxd5,c4,Qc5+,Kh1,Qe3', 'cxd5,Qxd2,Nxd2', 'https://lichess.org/training/RczPG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rCZun', 'Rapid', 'sajnsk', 2157, 'alaki123', 2224, 'd4,e6,e4,d5,exd5,exd5,Nf3,Bg4,h3,Bh5,Bf4,Nc6,c3,Qe7+,Qe2,O-O-O,Qxe7,Ngxe7,Nbd2,h6,O-O-O,g5,Bg3,f5,Be5,Nxe5,Nxe5,Rh7,f3,Ng6,Nxg6,Bxg6,Bd3,Re7,Rde1,Rde8,Rxe7,Rxe7,g4,Rf7,Re1,Kd7,Re5,c6,Bxf5+,Bxf5,Rxf5,Rxf5,gxf5,b5,a3,a5,Nf1,Bd6,Kc2,Bf4,b3,Ke7,Kd3,Kf6,Ne3', 'Bxe3,Kxe3,Kxf5', 'https://lichess.org/training/rCZun');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rd8cv', 'Blitz', 'Yaidan', 1651, 'Burilshik', 1691, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nc6,Nc3,g6,Nf3,Bd7,Bc4,Bg7,O-O,e6,Re1,Nf6,Bg5,Qc7,e5,Nh5,exd6,Qxd6,Ne4,Qc7,d5,exd5,Qxd5,Be6,Nc5,O-O,Nxe6,fxe6,Qxe6+,Kh8,Qh3,Nf4,Bxf4,Qxf4,Bd3,Qf6,Re6,Qxb2,Rae1,Qxa2,Bxg6,h6,Bb1,Qb2,Nh4', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/rd8cv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDAPI', 'Blitz', 'kurtveayi', 1846, 'SailingtoPhilly', 1867, 'e4,e5,Qf3,Nf6,Bc4,Nc6,c3,d6,h3,Be7,Ne2,O-O,Ng3,a6,Bb3,b5,d3,Bb7,Nf5,Re8,Qg3,g6,Nh4,Nh5,Qf3,Nf4,Bxf4,exf4,Qxf4,Rf8,Nf3,a5,Bd5,Rb8,O-O,Bf6,Re1,Ne5,Bxb7', 'Nxd3,Qe3,Nxe1,Nxe1,Rxb7', 'https://lichess.org/training/RDAPI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdavW', 'Rapid', 'LiMaMaxWi', 1752, 'KabduEnbek', 1781, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nc6,Bb5,e6,Nf3,Bb4,O-O,a6,Ba4,Bd7,a3,Bxc3,bxc3,Nf6,Bg5,O-O,Qd3,h6,Bf4,Rc8,Rab1,b5,Bb3,Ne4,Ne5,Nxe5,Bxe5,Rxc3,Qe2,Qg5,f3,Nd2', 'f4,Qe7,Qxd2', 'https://lichess.org/training/rdavW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RdbK6', 'Blitz', 'emrealtun_up', 2166, 'e_sesli', 2160, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Bc5,O-O,Nf6,Re1,d6,h3,Be6,Bb3,Qd7,Bxe6,Qxe6,c3,O-O-O,d4,Bb6,d5,Qd7,dxc6,Qxc6,Nbd2,g5,Nf1,Nxe4,Be3,Bc5,Bxc5,dxc5,Qb3,f6,a4,g4,hxg4,h5,gxh5,Rxh5,Ng3,Nxg3,fxg3,Rdh8,Nh4,Qd6,Qd1,Qb6,Kh1', 'Rxh4+,gxh4,Rxh4+,Kg1,c4+', 'https://lichess.org/training/RdbK6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rDC8i', 'Rapid', 'presapiens', 1814, 'Temuri31121970', 1647, 'e4,c5,b4,e6,bxc5,Bxc5,d4,Bb6,Bc4,Nc6,c3,Qc7,Qd3,Nf6,Nf3,O-O,O-O,Na5,Bb3,Nxb3,axb3,Ng4,h3,Nf6,Bg5,Nh5,e5,d6,Nbd2,h6,Be3,Rd8,Nc4,dxe5,Ncxe5,Ba5,b4,Bb6,Rfc1,f6,Ng6,e5,d5,Bxe3,fxe3,Bxh3,gxh3,e4,Qxe4,Qg3+,Kf1,Qxh3+,Ke2', 'Ng3+,Kd3,Nxe4', 'https://lichess.org/training/rDC8i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDCea', 'Rapid', 'Reinaldozerpa12', 1816, 'Iwan1951', 1823, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,O-O,d6,Be3,Bxe3,fxe3,Nf6,Qe1,O-O,Nc3,a6,h3,Ne7,Nh2,Nh7,Qg3,Ng5,Nd5,c6,Nxe7+,Qxe7,Ng4,Kh7,h4,Ne6,Rf5,Nc5,Rf2,b5,Bb3,Nxb3,axb3,a5,Raf1,f6,Nh2,Qf7,Qf3,Qg6,g4,Bd7,Qg3,a4,g5,hxg5,hxg5,axb3,cxb3,Kg8,Nf3,Be6,Nh4,Qxg5,Qxg5,fxg5,Ng6,Rxf2,Rxf2,Bxb3', 'Ne7+,Kh8,Rh2#', 'https://lichess.org/training/RDCea');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDCOb', 'Rapid', 'analysisacc', 1759, 'cachua1990', 1772, 'Nf3,c5,c4,d5,Nc3,d4,Ne4,b6,d3,Bb7,e3,Bxe4,dxe4,e6,exd4,cxd4,Qxd4,Qc7,Be2,Nd7,O-O,Ngf6,e5,Bc5,Qc3,Ng4,b4,Be7,Bf4,Rc8,h3,Nh6,b5,Nf5,Rfd1,Nc5,g4,Nh4,Nd4,Ng6,Bh2,Ne4,Qc2,Nc5,Nc6,Bg5,Rd6,O-O,Rad1,Ne7,f4,Nxc6,Rxc6,Qe7,fxg5,Qxg5,Rdd6,Qe3+,Kh1,Qxh3,Qd1,Ne4,Qf1', 'Ng3+,Kg1,Nxf1', 'https://lichess.org/training/RDCOb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rDdaN', 'Rapid', 'eziohackz', 1959, 'suryaputhrah', 1909, 'e4,e5,d3,h6,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Bd2,O-O,f3,Nxd4,Ne2,Bc5,Nxd4,Bxd4,Bb4,d6,Qxd4,c5,Bxc5,dxc5,Qxc5,Qb6,Qxb6,axb6,a3,Bd7,O-O-O,Bc6,Bc4,b5,Bb3,b4,axb4,Ra1+,Kd2,Rd8+,Ke2,Rdxd1,Rxd1,Rxd1,Kxd1,Kf8,c3,Ke7,Ke2,Ne8,c4,b5,Kd3,Nd6,c5,Nc8,h4,f6,Ke3,Kd7,Kf4,Ne7,h5,Bb7,g4,Bc8,Bd5,Nc6,Bxc6+,Kxc6,Kg3,Be6,f4,Bc4,f5,Bf7,Kf4,Be8,Ke3,Bf7,Kd4,Be8,e5,Bd7,e6,Be8,Ke4,Kc7,Kd5', 'Bc6+,Kd4,Bf3', 'https://lichess.org/training/rDdaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rDdi1', 'Rapid', 'lobodc', 1653, 'br0dio', 1659, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,c6,Be2,Nf6,O-O,Bg4,d4,e6,h3,Bh5,Ne5,Bxe2,Nxe2,Bd6,Nc4,Qc7,Bg5,Nbd7,c3,O-O,f4,Nh5,Ne5,Bxe5,fxe5,f6,exf6,Nhxf6,Qb3,Rae8,Nf4,Nd5,Nxd5,exd5,Qa3,Nf6,Qxa7,Ne4,Bh4,Ra8,Rxf8+,Rxf8,Qa4,Nd2,Qc2,Nc4,Rf1', 'Rxf1+,Kxf1,Ne3+', 'https://lichess.org/training/rDdi1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rdeid', 'Classical', 'VLADIMIR007', 1873, 'Savedyb', 1892, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Be7,O-O,O-O,Nc3,Re8,Re1,Nc6,Bg5,Bg4,Be2,Ne4,Bxe7,Nxe7,Nxe4,dxe4,Ne5,Bxe2,Rxe2,f6,Nc4,Nf5,c3,Qd5,Ne3,Nxe3,fxe3,f5,Qf1,Rf8,Qf4,Qc4,Rd2,Rad8,a3,g6,h3,c5,Rad1,Qb5,g4,cxd4,cxd4,fxg4,Qxg4,Rf3,Qxe4,Qg5+,Qg4', 'Rg3+,Qxg3,Qxg3+', 'https://lichess.org/training/Rdeid');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdEur', 'Rapid', 'Samarth2006', 1690, 'RithvikSBhat', 1702, 'e4,d5,e5,Bf5,f4,e6,d4,c5,c3,Nc6,Nf3,cxd4,cxd4,Bb4+,Nc3,Nge7,Bb5,O-O,O-O,Ng6,Bd3,Bg4,h3,Bxf3,Qxf3,Nxd4,Qg3,Qh4,Qe3,Nf5,Bxf5,exf5,Nxd5,Ba5,a3,Rfd8,Nb4', 'Bb6,Qxb6,axb6', 'https://lichess.org/training/rdEur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDEWE', 'Rapid', 'VIP1308', 1601, 'dimondra', 1839, 'e4,c5,Bc4,Nc6,c3,Ne5,Na3,Nxc4,Nxc4,b5,Ne3,Bb7,e5,d5,Qf3,e6,Nh3,Qb6,O-O,d4,Qg3,dxe3,fxe3,f5,d4,O-O-O,Rf4,Nh6,b4,cxb4,cxb4,Ng4,a3,Be7,Nf2,g5,Rxg4,fxg4,Qxg4,h5,Qe2,Qc6,e4,g4,Be3,Bh4', 'Rc1,Qxc1+,Bxc1', 'https://lichess.org/training/RDEWE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RdFSu', 'Classical', 'lutfi74', 1816, 'ulantero', 1722, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,h3,Bf5,d4,Nc6,Bd2,O-O-O,Bb5,Nxd4,Nxd4,Rxd4,O-O,Nd5,Qf3,Rxd2', 'Qxf5+,e6,Qxf7', 'https://lichess.org/training/RdFSu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rDH8A', 'Rapid', 'timandre', 1945, 'ulja2009', 1901, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,c4,e6,Nc3,Be7,Bf4,O-O,Bd3,Nh5,Bg3,Nc6,cxd5,exd5,Be5,Bf6,Bxf6,Nxf6,O-O,Bg4,Be2,Qb6,Ne5,Bxe2,Nxe2,Rfe8,Nxc6,bxc6,Qc2,Rac8,Rfe1,Ne4,Rad1,h6,Nc3,Nf6,b3,a5,Rxe8+,Rxe8,Na4,Qb5,h3,Re2,Qb1,Ne4,Re1,Rxf2,Rxe4,dxe4,Kxf2,Qf5+,Ke3,Qg5+,Kxe4', 'Qg6+,Ke3,Qxb1', 'https://lichess.org/training/rDH8A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rDIYp', 'Classical', 'karabela_01', 1930, 'Ctenophora_Cnidaria', 2021, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,O-O,O-O,c3,d6,Re1,Bb7,Nbd2,Na5,Bc2,c5,Nf1,Nd7,Ng3,Nc6,Nf5,Nb6,g4,Qc7,g5,Nd8,h4,Ne6,a4,bxa4,Bxa4,Nxa4,Rxa4,Nf4,Nh2,Rae8,Qf3,d5,Bxf4,exf4,exd5,Qd7,Rxe7,Rxe7,Nxe7+,Qxe7,Re4,Qd6,c4,f5,Re6', 'Qxe6,dxe6,Bxf3', 'https://lichess.org/training/rDIYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDIZq', 'Rapid', 'Vjh11', 2009, 'thomas94033', 1877, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Nxe5,Bd4,Nf3,Bxc3,bxc3,Nxe4,Bd3,d5,O-O,O-O,Bxe4,dxe4,Nd4,c5,Ne2,Bg4,Qe1,Bxe2,Qxe2,Re8,Rd1,Nc6,d3,exd3,Qxd3,Qf6,Be3,b6,Qa6,Qxc3,Qb7,Nb4,a3,Reb8,Qf3,Na6,Rab1,Qxc2,Rbc1,Qb3,Rd7,Rd8,Rcd1,Rxd7', 'Qxa8+,Nb8,Qxb8+,Rd8,Qxd8#', 'https://lichess.org/training/RDIZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDjIq', 'Rapid', 'Phanatic13', 1939, 'mumia50', 1939, 'e4,b6,Nf3,Bb7,Bc4,Bxe4,O-O,d5,Bb5+,c6,Be2,e6,Re1,Bxf3,Bxf3,g6,d3,Bg7,c3,Ne7,d4,Qd7,Nd2,O-O,Nf1,Na6,Ng3,c5,h4,cxd4,cxd4,Nf5,Nxf5,gxf5,h5,h6,Be3,Qd6,g3,Qb4,Rb1,Rac8,a3,Qc4,Rc1,Qb5,b4,Rxc1,Bxc1,Qc4,Be3,Rc8', 'Be2,Qc3,Bxa6', 'https://lichess.org/training/RDjIq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rDjMe', 'Blitz', 'Tempranillo', 1864, 'tushar22', 1679, 'c4,Nf6,Nc3,g6,e4,Bg7,d3,d6,Nf3,Bg4,Be2,e5,O-O,O-O,Be3,Nbd7,h3,Be6,Qd2,a6,Bh6,Re8,Bxg7,Kxg7,b3,h5,Rfd1,Rh8,Rac1,Nc5,Nd5,Qd7,Nxf6,Kxf6,Kh2,Rag8,Qg5+,Kg7,b4,Na4,Rd2,Rf8,Bd1,f6,Bxa4,Qxa4,Qe3,Qxb4,Rcc2,Qa4,Rb2,b6,Rb3,g5,Rdb2,g4,Ng1,gxh3,Nxh3,Kf7,Rb4,Qd7,f4,Bxh3,gxh3,Rfg8,f5,Rg5,a4,Rhg8,d4,a5,Rb5,Qc6,dxe5,Qxc4,exd6,Qf1,dxc7', 'Rg2+,Rxg2,Qxg2#', 'https://lichess.org/training/rDjMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdJxO', 'Rapid', 'arifinn', 2062, 'MrNight', 2026, 'e4,e5,d3,c6,f4,d6,Nf3,Bg4,Be2,Nf6,fxe5,dxe5,Nxe5,Bxe2,Qxe2', 'Qa5+,Nd2,Qxe5', 'https://lichess.org/training/rdJxO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdKRE', 'Rapid', 'sahragard', 2118, 'nagareboshi', 2013, 'e4,e6,Nf3,d5,e5,c5,g3,Nc6,Bg2,Nge7,O-O,h5,h4,Nf5,c3,d4,d3,Bd7,Qe2,Be7,Bf4,f6,Nbd2,g5,exf6,gxf4,fxe7,Qxe7,Ne4,fxg3,fxg3,Rg8,Nfg5,O-O-O,Qxh5,Ne5,cxd4,cxd4,Rac1+,Kb8,Nc5', 'Nxg3,Qd1,Nxf1', 'https://lichess.org/training/rdKRE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rDKXk', 'Blitz', 'qamil_fetiuu', 2224, 'CM IngOscarArdila', 2204, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,a4,d5,f3,dxe4', 'Nxc6,Nxc6,Bxc5', 'https://lichess.org/training/rDKXk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rdlbf', 'Classical', 'error12364', 1824, 'MukulSingla', 1800, 'e4,c5,b4,e6,bxc5,Bxc5,d4,Bb6,Nf3,d5,e5,Nc6,Ba3,f6,Bb5,fxe5,Nxe5,Bd7,Qh5+,g6,Nxg6,Nf6,Qh3,Bxd4,Nxh8,Bxa1,O-O,Qa5,Bxc6,Bxc6,Qxe6+,Kd8,Nf7+,Kc7,Bd6+,Kb6,Qe3+,Ka6,Nd2,Re8,Qh6,Bb5,Rxa1,Re2,Nf3,Qb6,Qxf6', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/Rdlbf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RdLOT', 'Rapid', 'lord007', 1853, 'B__T__B', 1744, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,d3,h6,Nc3,Ngf6,b3,e5,Bb2,Be7,O-O,O-O,h3,a6,a4,Rb8,Nh2,b5,axb5,axb5,Ng4,b4,Nxf6+,Bxf6,Nd5,Be7,f4,Nf6,fxe5,Nxd5,exd5,Bg5,Qf3,f5,e6,Qb6,Qh5,c4+,Kh1,c3,Bc1,f4,h4,Be7,Bxf4,Qd4,g3,Rb5,Qg6,Qxd5+,Kh2,Rf6,Qe8+,Kh7,Qxe7,Rxe6,Qd7,Re2+,Kh3', 'Qg2+,Kg4,h5#', 'https://lichess.org/training/RdLOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdM9L', 'Rapid', 'grgabgd', 1665, 'marmutop', 1895, 'e4,c5,Nf3,a6,a3,Nc6,Bc4,e6,d3,Nf6,h3,d5,exd5,Nxd5,O-O,Be7,Nh2,Bf6,c3,O-O,Nd2,b5,Ba2,Bb7,Ne4,Be7,Qg4,f5,Qg3,fxe4,dxe4,Nc7,Bh6,Rf7,Rad1,Qe8,Qxc7,Bc8,Be3,c4,Bd4,Bxa3,Qg3,Bxb2,Qh4,e5,Bb6,Bxc3,Rd6,Bd4,Bxd4,Nxd4', 'Rd8,Be6,Rxe8+', 'https://lichess.org/training/rdM9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdMMo', 'Blitz', 'User_8712', 2162, 'mehrzad18', 2088, 'e4,d6,f4,Nf6,Nc3,Nbd7,Nf3,e5,d4,exd4,Nxd4,g6,Be3,Bg7,Qd2,O-O,O-O-O,Ng4,Kb1,Nxe3,Qxe3,c6,h3,Qc7,g4,b5,Bg2,a5,f5,a4,g5,Be5,Nf3,b4,Ne2,b3,cxb3,a3,Nxe5,dxe5,f6,axb2,Rd2,Qa5,Rxb2,Nc5,Rc1,Ne6,Qg3,Ba6,Qh4,c5,Qh6,Rfc8,h4,c4,Bh3,cxb3,Bxe6,Bd3+,Ka1', 'Qxa2+,Rxa2,Rxa2#', 'https://lichess.org/training/rdMMo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdNYB', 'Classical', 'MaleK28', 1695, 'Proxava', 1628, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,Bg4,h3,Bf5,Nc3,Nxc3,bxc3,c5,Ng5,Bg6,Nxf7,Bxf7,Bxf7+,Kxf7,Qf3+,Kg8', 'Qxb7,Qd7,Qxa8', 'https://lichess.org/training/rdNYB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RdoAI', 'Rapid', 'jokotoko', 1837, 'queeNNasya', 1773, 'd4,d5,c4,c6,e3,Bf5,Nf3,e6,Nc3,Bb4,Bd3,Ne7,O-O,O-O,cxd5,cxd5,a3,Bxc3,bxc3,Bg4,c4,Nd7,Bxh7+,Kxh7,Ng5+,Kg8,Qxg4,Ng6,Qh5,Nf6,Qe2,Rc8,c5,Nh7,Nxh7,Kxh7,Bd2,Rh8,Qf3,Kg8,Rab1,Qc7,h3,e5,Qxd5,b6,Bb4,exd4,exd4,Rd8,Qe4,Nf4,cxb6,axb6,Rbc1,Qb8,Rfe1,Rh4,g3', 'Nxh3+,Kg2,Rxe4', 'https://lichess.org/training/RdoAI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDoQm', 'Classical', 'monica99999', 1729, 'astra22', 1625, 'd4,d5,Nf3,Bg4,Ne5,Bh5,c4,f6,Nd3,dxc4,Qa4+,Nc6,Qxc4,Qxd4,Qb5,Bg6', 'Qxb7,Rd8,Qxc6+', 'https://lichess.org/training/RDoQm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdoTW', 'Rapid', 'Shakhan', 1976, 'Vigues', 2021, 'c4,c5,Nc3,Nc6,Nf3,d6,e4,e5,d3,f5,Bg5,Nf6,Nd5,Be7,Nxe7,Qxe7,Be2,O-O,O-O,h6,Bd2,fxe4,dxe4,Kh8,Bd3,Bg4,h3,Bh5,Qc1,Bxf3,gxf3,Nd4,f4,Nf3+,Kh1,Nxd2,Qxd2,exf4,Qxf4,Qe6,Kh2,Rae8,Rae1,Nh5,Qg4,Qe5+,Kh1,Rf4,Qg6,Re6,Qg2,Rff6,Rg1,Rg6,Qxg6,Rxg6,Rxg6,Qf4,Rg2,Qf3,Be2,Qf7,Reg1,g5,Bxh5,Qxh5,f4,Qxh3+,Rh2,Qf3+,Rgg2,Qxf4,Rxh6+,Kg7,Re6,Kf7,Rh6,Qxe4,Kh2,Qf4+,Kg1,g4', 'Rf2,Qxf2+,Kxf2', 'https://lichess.org/training/rdoTW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDOyd', 'Classical', 'Pappoose', 1964, 'ArnZero', 2052, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,g6,Bb5,Bd7,O-O,Bg7,d5,Ne5,Bxd7+,Nxd7,Nc3,Ngf6,Rb1,O-O,Be3,a6,a3,Ng4,Bf4,Rc8,Qd2,Qa5,h3,Nge5,Nxe5,Nxe5,Bh6,Nc4,Qf4,b5,Bxg7,Kxg7,Ne2,Nd2', 'b4,Qxa3,Qxd2', 'https://lichess.org/training/RDOyd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDplh', 'Rapid', 'Ahivo', 1808, 'alygaber77', 1821, 'd4,d6,c4,g6,e4,Bg7,Be3,Nf6,Nc3,O-O,Nf3,c6,Be2,d5,cxd5,cxd5,e5,Ng4,O-O,Nxe3,fxe3,f6,Qb3,Be6,Qxb7,Nd7,Qa6,Nb6,exf6,Rxf6,Ng5,Bf5,Qb7,h6,Nxd5,Nxd5,Bc4,hxg5', 'Bxd5+,Kh7,Qxa8', 'https://lichess.org/training/RDplh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdQdM', 'Rapid', 'AndreyKosh', 2352, 'LittyKitty', 2406, 'd4,Nf6,Nf3,d5,e3,g6,h3,Bg7,c4,O-O,Nc3,c6,Be2,e6,O-O,Nbd7,b3,Re8,Bb2,b6,Ne5,Nxe5,dxe5,Nd7,f4,Bb7,cxd5,exd5,Bg4,f6,Ne2,fxe5,f5,Nf6,Ng3,Qd6,e4,Rad8,fxg6,hxg6,Qe2,Qc5+,Kh1,d4,Rac1,d3,Qd2,Qd6,Qg5,Nxg4,Qxg4,Rf8,Rfd1,c5,h4,Bc8,Qg5,Rf4,Rc3,Rg4,Rcxd3,Qxd3', 'Qxd8+,Qxd8,Rxd8+,Kf7,Rxc8', 'https://lichess.org/training/rdQdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdQYZ', 'Rapid', 'adsfjlkh2', 1650, 'Leopaul', 1665, 'e4,e5,f4,d5,exd5,e4,Nc3,Nf6,d3,Bb4,a3,Bxc3+,bxc3,c6,dxe4,Nxe4,Qh5,Qe7,dxc6,Nxc6,Bb5,Nxc3+,Be2,O-O,Bb2,Nxe2,Nxe2,f6,f5,Qe4,O-O,Bd7,Rae1,Qxc2,Bc1,Be8,Qg4,Qc5+,Kh1,Ne5,Qg3,Kh8,Nf4,Bf7,Qh4,Qd4', 'Ng6+,Nxg6,Qxd4', 'https://lichess.org/training/rdQYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rDr32', 'Rapid', 'prambanan70', 2118, 'Da1e', 2264, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Bg4,Ne2,e6,h3,Bh5,Bg5,Be7,c4,dxc4,Bxc4,Kf8,Nbc3,h6,Be3,Nc6,Qd2,a6,Nf4,b5,Bb3,Na5,Bc2,Nc4,Qc1,Nxe3,Qxe3,Bb4,O-O,Bxc3,bxc3,g5,Nxh5,Nxh5,Qf3,Nf4,Rfe1,Kg7,Kh1,Rc8,Re3,Qf6,Kh2,Nd5,Qxf6+,Kxf6,Rf3+,Kg7,Bb3,Rhd8,Rc1,Nf4,g3,Nd5,h4,a5,hxg5,hxg5,a3,a4,Ba2,Rh8+,Kg2,g4,Rd3,Nf6,c4,bxc4,Rxc4,Rxc4,Bxc4,Nh7,d5,Ng5,dxe6,Nf3,Kf1', 'Rh1+,Ke2,Re1#', 'https://lichess.org/training/rDr32');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RdsMp', 'Rapid', 'dzhogor', 1868, 'spskiller', 1823, 'd4,d5,c4,Nf6,Nc3,e6,a3,Be7,Bf4,O-O,e3,Nc6,Bd3,dxc4,Bxc4,a6,Qc2,Re8,Rd1,Nd5,Nxd5,exd5,Bd3,g6,Nf3,Bf6,h4,Nxd4,Nxd4,Bxd4,h5,Qf6,Kf1,Be5,Bxe5,Rxe5,hxg6,fxg6,e4,dxe4,Bxe4,Bf5,Bxf5,Rxf5,Qxc7,Rxf2+,Kg1,Rf8', 'Qxh7#', 'https://lichess.org/training/RdsMp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdSPu', 'Blitz', 'clchcks', 1663, 'sallegreco', 1854, 'd4,d5,e3,e6,Bd3,h6,f4,Nf6,Nf3,Be7,O-O,c5,Nbd2,c4,c3,cxd3,Ne5,Nbd7,Nxd3,b6,Ne5,Bb7,Ndf3,Ne4,Nd2,f5', 'Qh5+,g6,Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/rdSPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rDtEo', 'Rapid', 'VVV5', 1971, 'lingtalfi', 2089, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qd8,Nf3,Nc6,d4,a6,Be2,Bg4,d5,Nb4,Qa4+,b5,Qxb4,Bxf3,Bxf3,e6,Qb3,Rc8,O-O,Bc5,Be3,Bxe3,fxe3,Nf6,Rad1,e5,Qb4,Rc4,Qb3,Qb6,Rfe1,O-O,Be2,Qxe3+,Kh1,Rh4,g3,Rh6,Rd3,Qg5,Bf3,Qxg3,Re2,Qh3,Qd1,b4,Ne4,Ng4,Bxg4,Qxg4,Rg3,Qf4,Qg1,Rg6,Qe3', 'Qf1+,Rg1,Rxg1+,Qxg1,Qxe2', 'https://lichess.org/training/rDtEo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RdUl3', 'Blitz', 'Aghassiati', 1657, 'asdem', 1705, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bg5,Be7,h3,O-O,O-O-O,c6,e5,Nd5,Bxe7,Qxe7,Nxd5,cxd5,Qxd5,dxe5,Bc4,Be6,Qe4,Qg5+,Kb1,Bf5,Qxb7,Rac8,Bb3,a5,g4,Bg6,Qf3,e4,h4,Qb5,Qe3,a4,Bd5,a3,Bb3,h6,h5,Bh7,Rd5,Qc6,Rhd1,axb2,Rd6,Qc3,Qf4,e3,Qxe3', 'Bxc2+,Bxc2,Qxc2#', 'https://lichess.org/training/RdUl3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rDUtl', 'Blitz', 'NM TreasureChess777', 2243, 'chepukaitis1966', 2242, 'Nf3,d5,b3,Nc6,Bb2,f6,d4,Bf5,e3,e6,Bd3,Bg4,a3,Bd6,Nbd2,Nge7,c4,b6,Qc2,Bf5,Bxf5,Nxf5,cxd5,Nce7,dxe6,O-O,e4,Nh6,b4,Ng6,e5,fxe5,dxe5,Be7,O-O-O,Qd5,Qc4,Qb7,Qe4,Qa6,Qc4,Qb7,Ne4,Rf4,Rhe1,Raf8,Rd7,b5,Qxc7', 'Rc8,Qxc8+,Qxc8+', 'https://lichess.org/training/rDUtl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rDUU5', 'Rapid', 'sahmar', 1766, 'pa1989', 1798, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bd3,Be7,Be3,O-O,h3,Re8,Nf3,c6,O-O,Be6,Ne5,Qd6,f4,Qb4,Rb1,Nbd7,a3,Qb6,f5,Nxe5,fxe6,Nxd3,exf7+,Kxf7,Qxd3,Kg8,Rf3,Bd6,b4,Ne4,Ne2,Qc7,Rbf1,Re7,Bf4,Rae8,Bxd6,Qxd6,Kh1,Ng5,Rg3,Rxe2,Rxg5,h6,Rg6,Qe7,Qg3,Kh7,Rg4,Rxc2', 'Qd3+,Kg8,Qxc2', 'https://lichess.org/training/rDUU5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rdwdz', 'Classical', 'Basti187', 1739, 'Alighasemi1234', 2088, 'c4,d5,cxd5,e6,dxe6,Bxe6,Nc3,Bd6,g3,Nc6,Bg2,Nf6,e4,O-O,d3,Nd4,Nge2,c5,O-O,Bg4,Be3,b5,f3,Bd7,Nxd4,cxd4,Bxd4,a6,Be3,Rc8,Bg5,Qc7,f4,Ng4,Qe2,Ne3,Qxe3,f6,Bh4,h6,Nd5,Qd8,g4,Rc2,f5,Rxb2,Bg3,Ba3,d4,Be7,Rf2,Rxf2,Bxf2,Bc6,Nxe7+,Qxe7,d5,Bb7,Rc1,Re8,Qa7,Kh7,Bb6,Qa3,Rc7,Qb4,Qxb7,Qe1+,Bf1,Rg8,Bf2,Qxe4,Bg2,Qxg4,d6,h5,d7,h4,d8=Q,Rxd8,h3', 'Rd1+,Kh2,Qf4+,Bg3,hxg3#', 'https://lichess.org/training/rdwdz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDYFq', 'Blitz', 'Matasaras', 1993, 'LukasOP9', 2386, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,Nf3,Bg4,c3,Nf6,O-O,e6,h3,Bh5,Be3,Bd6,Nbd2,Bc7,Qb3,Rb8,Bb5,Qd6,Ne5,O-O,f4,Ne4,Nxe4,dxe4,Qc2,Nxe5,fxe5,Qb6,Be2,Bg6,Qd2,Qc6,Rac1,Rfd8,Qe1,Qb6,Qd2,Bxe5,b3,Qc7,Qb2,Bh2+,Kh1,Bg3,c4,f5,d5,Be5,Qb1,exd5,cxd5,Qd6,Bc5,Qd7,Rfd1,b6,Ba3,f4,d6,Rbc8,Bg4,Bf5,Bxf5,Qxf5,d7,Rxc1,Qxc1,Bf6,Qc4+,Kh8,Qf7,Qg6,Qe6,e3,Be7,Bxe7', 'Qxe7,Qf6,Qe8+,Qf8,Qxf8+', 'https://lichess.org/training/RDYFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDYhd', 'Rapid', 'terrys', 1780, 'dalayiLama', 1704, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,a3,a6,Bc4,h6,Nc3,Nf6,d3,Be7,O-O,O-O,Nh2,Nh7,f4,Kh8,f5,Nd4,Ne2,Nxe2+,Qxe2,b5,Bb3,c5,Ng4,f6,Bd2,a5,Bd5,Ra7,c3,Qb6,Kh1,Bc6,Be6,Bd7,Bxd7,Rxd7,Be3,Qb8,b4,cxb4,axb4,a4,Rfb1,d5,exd5,Rxd5,c4,bxc4,dxc4,Rd7,Rxa4,Rfd8,b5,Rb7,c5,Rd5,Rc4,Rxb5,Rxb5,Qxb5,c6,Bd6,c7,Bxc7,Rxc7', 'Qxe2,Rc8+,Nf8', 'https://lichess.org/training/RDYhd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDYJd', 'Classical', 'Idiocracy', 1726, 'JranFossmo', 1682, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,Re1,O-O,c3,b6,d4,exd4,cxd4,Bb7,Nc3,c6,Qd3,b5,Bb3,a5,Bc2,g6,e5,dxe5,Nxe5,Ba6,Qh3,Bc8,Qh6,Ng4,Nxg4,Bxg4,Re5,Bf6,Bg5,Bxg5,Rxg5,Qxd4,h3,Be6,Ne4,Qxb2,Rh5,Qxa1+,Kh2,Qg7', 'Nf6+,Kh8,Qxh7+,Qxh7,Rxh7#', 'https://lichess.org/training/RDYJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDZdN', 'Rapid', 'viktor4707', 1854, 'kondor5', 1815, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,O-O,Bg4,Bxf7+,Kxf7,Ng5+,Qxg5,f3,Qg6,fxg4+,Ke8,Be3,Nge7,Nc3,Kd7,g5,h5,Kh1,Rhf8,Qa4,Rad8,Rfd1,Kc8,Rac1,d5,Qc2,dxe4,Nxe4,Qe6,Bg1,Rd5,a3,Rf4,Re1,Qd7,Nc3,Nxd4,Bxd4,Rdxd4,Qh7,Nc6,Qh8+,Nd8,Qxh5,Rh4,Qf3,Qd6,h3,Rdf4,Qe2,Rf2,Qe5,Qxe5,Rxe5,Rxb2,Nd5,Kd7,Rd1,Rd4', 'Nxb6+,Rxb6,Rxd4+', 'https://lichess.org/training/RDZdN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rdzr6', 'Rapid', 'bakpao_keju', 1835, 'INDIANsacrificer', 1832, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Nbd2,Qe7,a3,a5,b3,Ncxe5,Bb2,Nxf3+,Nxf3,Nxf2,Kxf2,Qxe3+,Kg3,O-O,Qe2', 'Bd6+,Kh3,Qh6+', 'https://lichess.org/training/Rdzr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RDZXm', 'Classical', 'redanou27', 1857, 'Foxtea', 1786, 'Nf3,f6,g3,e5,d3,d5,Bg2,Bc5,d4,Bb6,dxe5,c6,exf6,Nxf6,Bg5,O-O,Bxf6,Qxf6,c3,Bg4,O-O,Nd7,Qb3,Nc5,Qd1,Ne4,Nbd2,Bc5,Nxe4,dxe4,Qb3+,Kh8,Nd2,Bxf2+,Kh1,Bxe2,Nxe4,Qh6,Rxf2,Rxf2,Nxf2,Qf6,Qxb7,Rf8,Ne4,Qf5,Qxc6,Bf3,Bxf3,Qxf3+,Kg1,Qe3+,Kg2,Qf3+,Kg1,Qe3+,Nf2,Qxf2+,Kh1,Qxb2,Rg1,Qxa2,Qc5,Kg8,c4,Qe2,Qd5+,Kh8,h4,h6,c5,Rf2,Rg2,Qf1+,Kh2,Rxg2+,Qxg2,Qc4,Qa8+,Kh7,Qxa7,Qc2+,Kg1,Qd1+,Kf2,Qd4+,Kf3,Qd3+,Kg4,h5+,Kf4,Qd4+,Kf5,Qg4+,Ke5,Qxg3+,Ke6,Qg6+,Kd5,Qf5+,Kc6,Qe6+,Kb7,Qe7+,Kb6,Qxh4,c6,Qb4+,Kc7,Qe7+,Kb8,Qd6+,c7,Qb4+,Qb7,Qf8+,c8=Q,Qf4+,Ka8,Qa4+,Qa7,Qe4+,Kb8,Qb4+,Kc7,Qc4+,Kd7', 'Qf7+,Kd6,Qxa7', 'https://lichess.org/training/RDZXm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rE03w', 'Blitz', 'pirio', 1618, 'dhanaksd', 1636, 'e4,e6,Nf3,d5,exd5,exd5,d4,c5,Nc3,cxd4,Nxd4,Nf6,Bg5,Be7,Bd3,O-O,Qd2,h6,Bh4,a5,a4,Nc6,Nf5,Bxf5,Bxf5,d4,Ne2,Re8,O-O-O,Qd5,Bd3,Qa2,c3,dxc3,Nxc3,Qa1+,Bb1,Rad8,Qc2,Nd4,Rxd4,Rxd4,Bxf6,Bxf6,Qh7+,Kf8,Qh8+,Ke7,Re1+,Kd6,Qxe8,Bg5+,Kc2', 'Rd2+,Kb3,Qxb2+,Kc4,Qb4#', 'https://lichess.org/training/rE03w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('re0QY', 'Rapid', 'Natsu00011', 2053, 'Pax_Draconia', 2181, 'e4,c6,Nf3,d6,d4,g6,Nc3,Bg7,Bc4,Nh6,O-O,f6,e5,d5,exf6,exf6,Re1+,Kf7,Bd3,Re8,Bf4,Rxe1+,Qxe1,Be6,Qd2,Nf5,Re1,Nd7,Qe2,Nf8,Bxf5,Bxf5,Nh4,Be6,Bg3,Qd7,Qd2,Re8,Ne2,g5,Nf3,Ng6,Kh1,h5,h4,Bg4,Neg1,Rxe1,Qxe1,gxh4,Nxh4,Nxh4,Bxh4,Bh6,Ne2,Bf3,Ng3', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/re0QY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rE1dG', 'Rapid', 'tonejit', 1664, 'kknight2', 1662, 'd4,e5,dxe5,Nc6,Nc3,Nxe5,e3,Bb4,Bd2,Nf6,Be2,d5,a3,Be7,Nf3,Ng6,Bd3,c5,O-O,c4,Be2,a6,b3,b5,bxc4,bxc4,Bc1,Qd6,Ng5,h6,Nf3,Ng4,g3,h5,Nxd5,Bd8,Bxc4,h4,e4,hxg3,fxg3,Rxh2,Nxh2', 'Qxg3+,Kh1,Qxh2#', 'https://lichess.org/training/rE1dG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('re2ph', 'Blitz', 'R4n1-Jp', 1998, 'Jeniusia', 1888, 'd4,d5,e3,e6,Nf3,Nf6,Bd3,c6,O-O,Be7,Nbd2,O-O,b3,b6,Bb2,Bb7,Ne5,Nbd7,f4,Ne4,Rf3,f6,Nxd7,Qxd7,Rh3,e5,Qh5,h6,fxe5,fxe5,Qxe5,Bd6,Qh5,Nxd2,Qg6,Ne4,Rxh6,Qf5,Bxe4', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/re2ph');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('re2X1', 'Classical', 'tsk007', 1675, 'fadidz', 1669, 'd4,d5,Nf3,Bf5,Bf4,Nf6,e3,Nc6,Bb5,e6,c3,Bd6,Bxd6,Qxd6,Nbd2,O-O,Ne5,Nxe5,dxe5,Qb6,Qb3,Ne4,Nxe4,Bxe4,O-O,c6,Be2,Qxb3,axb3,b5,Ra6,Rfc8,f3,Bc2,b4,Bb3,f4,Bc4,Re1,Bxe2,Rxe2,c5,bxc5,Rxc5,Rd2,Rc7,Rd6,g6,g3,a5,Rb6,Rc5,Rd1,a4,Ra1,Kg7,Rb7,Ra5,Kf2,h5', 'b4,Ra7,Rxa7', 'https://lichess.org/training/re2X1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('re9ec', 'Rapid', 'Digvijaysharma', 2036, 'Berser99', 1988, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Bd6,Nf3,O-O,h3,Re8+,Be3,Qc7,O-O,Bf5,Re1,Nd7,c3,Rad8,Bd3,Bg6,Rc1,c5,d5,c4,Bxg6,hxg6,b3,b5,b4,Qb7,a4,a6,axb5,axb5,Ra1,Nb6,Qc2,Nxd5,Bd4,Ra8,Rxe8+,Rxe8,Ra7,Qb8,Qa2,Nb6,Qa6,Bc7,Rxc7,Qxc7,Bxb6,Qc6,Nd4,Ra8,Nxc6,Rxa6,Ne7+,Kf8,Bc5,Ke8,Kh2,Re6,Nd5,Kd7,Nb6+,Kc6,Kg3,Re5,Bd4,Re4,Nc8', 'Rxd4,cxd4,c3', 'https://lichess.org/training/re9ec');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('re9gF', 'Bullet', 'Sultankam', 1754, 'ljubomauzer', 1743, 'e4,c6,d3,d5,Nd2,Nf6,g3,e5,Bg2,Be6,Ne2,Bc5,O-O,Nbd7,h3,O-O,Kh2,Qb6,f4,exf4,gxf4,dxe4,dxe4,Nb8,Nb3,Na6,Nxc5,Qxc5,c3,Rfd8,Qe1,Qe7,Ng3,Nc7,Be3,Rd3,Bf2,Rad8,Bd4,c5,Be5,Nb5,Qe2,h6,Nh5,Nxh5,Qxh5,Qd7,Rae1,Rd2,f5,Bc4,Rf3', 'Rxg2+,Kxg2,Qd2+,Rf2,Qxe1', 'https://lichess.org/training/re9gF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('REA9A', 'Classical', 'Sofiane1984', 1750, 'DonaldTrump_emperor', 1903, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,a3,O-O,d3,d6,Be3,Bxe3,fxe3,Bg4,O-O,Ne7,Qd2,d5,exd5,Bxf3,Rxf3,Nexd5,Nxd5,Nxd5,e4,Nf4,c3,Qg5,d4', 'Nh3+,Rxh3,Qxd2', 'https://lichess.org/training/REA9A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('reacU', 'Blitz', 'solodilei', 1632, 'hsvisbest', 1633, 'e4,c5,Bc4,a6,Ne2,b5,Bxf7+,Kxf7,Nbc3,b4,Nd5,Bb7,Nef4,Nc6,Qh5+,g6,Qf3,Bg7,Nxg6+,Kxg6,Qg4+,Kf7,Qh5+,Kf8,d3,Nf6,Nxf6,Bxf6,Qf5,Rg8,g3,h5,Bh6+,Ke8', 'Qxh5+,Rg6,Qxg6#', 'https://lichess.org/training/reacU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Reavg', 'Rapid', 'AndreaIta', 1659, 'T3tsur0', 1622, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,a3,c5,Bd3,Bxd3,Qxd3,cxd4,Qxd4,Nc6,Qe3,Nge7,Qg3,Nf5,Qf4,Qc7,Nf3,h6,h4,a6,Be3,Nxe3,Qxe3,Nd8,Ne2,Qxc2,b4,Rc8', 'Rc1,Qxc1+,Nxc1', 'https://lichess.org/training/Reavg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Recrd', 'Rapid', 'Valentin-_1958', 2137, 'geer2', 2117, 'e4,e5,Bc4,Nc6,a3,Nf6,d3,Bc5,Nc3,d6,h3,Be6,Bxe6,fxe6,Na4,Bb6,Nxb6,axb6,Nf3,O-O,c3,d5,Qc2,Nh5,Bg5,Qd7,b4,b5,O-O,Nf4,Qd2,Nxh3+,gxh3,Rxf3,Kg2,Raf8,Bh4,dxe4,d4,exd4,cxd4,Nxd4,Rad1,e5,Bg3,Qf5,Rfe1,h5,h4,Rf6,Qa2+,Kh7,Qd5,Rxg3+,fxg3,Qf2+,Kh3,Rg6,Qxe5,Nf3,Qxh5+,Kg8,Qxg6', 'Qh2+,Kg4,Ne5+,Kh5,Nxg6,Kxg6,Qxg3+', 'https://lichess.org/training/Recrd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('REgb9', 'Rapid', 'dpelle', 1610, 'zazzo91', 1635, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d6,e4,O-O,Be3,Nbd7,Qd2,c5,Bh6,Nb6,Bxg7,Kxg7,d5,Bg4,Be2,Qd7,h3,Bxf3,Bxf3,Nxc4,Qc2,Ne5,Be2,a6,O-O,Qd8,Qd1,b5,f4,Ned7,a3,e6,b4,exd5,Nxd5,Nxe4,Bf3,Nef6,Nxf6,Nxf6,Bxa8,Qxa8,Qxd6,cxb4,axb4,Rd8,Qxa6,Qe4,Qxb5,Rd2,Rf2', 'Rxf2,Kxf2,Qd4+', 'https://lichess.org/training/REgb9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('REgSt', 'Rapid', 'CrapCrusher', 1958, 'Vivek_Dahiya', 1925, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qc3,Nd5,Qd2,Nb6,b3,Bg7,Bb2,O-O,Na3,d6,O-O-O,Nxe5,Nxe5,Bf5,g4,Bxc2,Nxc2,dxe5,Bg2,Qc7,Kb1,Rac8,Rhe1,a5,f4,a4,fxe5,axb3,axb3,e6,Re2,Rfd8,Qe1,Nd5,Bxd5,exd5,Qf2,Re8,Qd4,Rxe5,Rxe5,Bxe5,Qxe5,Qxc2+,Ka2', 'Ra8#', 'https://lichess.org/training/REgSt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rEGzm', 'Rapid', 'Den89', 2050, 'iici', 1986, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Nd7,O-O,c5,c3,Rc8,a3,cxd4,cxd4,Qc7,Nc3,h6,Bd2,Ne7,Rc1,Nc6,b4,a6,b5,axb5,Bxb5,Bxa3,Ra1,Bb2,Ra2,Bxc3,Bxc3,O-O,h3,Nb6,g4,Be4,Nd2,Bh7,f4,Ra8,Qa1,Rxa2,Qxa2,Ra8,Qb2,Na4,Bxa4,Rxa4,f5,exf5,gxf5,b6,Qb3,Ra8,Qxd5,Rd8,Qc4,Qb7,e6,fxe6,fxe6,Ne7,Rf7,Rc8', 'Rxe7,Qxe7,Qxc8+', 'https://lichess.org/training/rEGzm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('REh2s', 'Blitz', 'Shirov26', 2165, 'deJavu2016', 2240, 'b3,Nf6,Bb2,g6,Bxf6,exf6,c4,Bg7,Nc3,f5,e3,O-O,Rc1,Re8,g3,Nc6,Nge2,Nb4,d4,c6,a3,Na6,Bg2,Nc7,b4,d5,cxd5,Nxd5,Nxd5,cxd5,Nf4,Be6,Qb3,g5,Nxd5,f4,O-O,Qd6,e4,Bxd4,Rfd1,Qe5,Qd3,Bb2,Rc2,Bxd5,exd5,Rac8,d6,Rxc2,Qxc2,Bxa3,d7,Rd8,Bxb7,Bxb4,Bc8,f3,Qd3,g4,Qc4,Qh5,Rd5,Qh3', 'Rg5+,Kh8,Qd4+,f6,Qxf6#', 'https://lichess.org/training/REh2s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Reihy', 'Blitz', 'santasangre', 1580, 'Gengti', 1583, 'd4,d5,Nf3,c6,Bf4,e6,Bxb8,Rxb8,e3,Bd6,c4,dxc4,Bxc4,Nf6,Qe2,b5,Bd3,Bb4+,Nc3,Qa5,O-O,Bxc3,bxc3,O-O,Rfc1,Bb7,Nd2,Qc7,Ne4,Nxe4,Bxe4,f5,Bf3,Rbd8,Rcb1,a6,a4,Rd6,axb5,axb5,Rb4,Rfd8,Rab1,Ba8,h3,Qa5,c4,bxc4,Qxc4,Qc7,Be2,h6,Bd3,g6,Qc1,Kg7,R1b3,e5,Ba6,c5,dxc5,Rd1+,Qxd1,Rxd1+,Kh2,e4+,g3,Qxc5,Rb2,Qc1,Rb7+,Bxb7,Rxb7+,Kf6,Rb6+,Kg5', 'h4+,Kh5,Be2#', 'https://lichess.org/training/Reihy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('REjRL', 'Rapid', 'fatihceylan38', 2025, 'BlackPawnRise', 2018, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Be2,Nd7,O-O,c6,Re1,Be7,h3,Bh5,Bf4,Qb6,Bc1,Ngf6,c3,O-O,Qc2,Bg6,Bd3,Bxd3,Qxd3,Bd6,a4,Rfe8,a5,Qc7,Be3,b6,axb6,Nxb6,Nbd2,Rab8,b4,Ne4,Ra6,f5,Nb3,Nc4,Rea1,Rb7,Nc5,Bxc5,dxc5,f4,Bd4,Re6,Qc2,Rg6,Qa2,Qd7,Kh2,h6,Rxa7,Rxa7,Qxa7,Qf5,Nh4,Ne3,Nxf5', 'Rxg2+,Kh1,Nxf2#', 'https://lichess.org/training/REjRL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('REk8c', 'Rapid', 'syahim08', 1899, 'luiscoronadoe', 1912, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Bg4,h3,Bh5,Nbd2,Nb6,Bb5,Qd5,Bxc6+,Qxc6,b3,f6,Bb2,O-O-O,Rc1,Nd5,g3,Nc3,Bxc3,Qxc3,Ne4,Qc6,g4,Bg6,Qe2,Ba3,Rce1,h5,Ng3,Bb4,Rd1,hxg4,hxg4,Rh3,Kg2,Rdh8,Rh1,Rxh1,Rxh1,Rxh1,Kxh1,Bf7,Kg1,Qc3,Ne4,Qa1+,Kg2,Qxa2,g5,Bxb3,gxf6,gxf6,Nxf6,Qxc2,Qe4,Bd6,Qg4+,Kb8,Nd7+,Ka8,Qg6,a6', 'Qe8+,Ka7,Qb8#', 'https://lichess.org/training/REk8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rEKiN', 'Blitz', 'Leopold20062006', 2173, 'music_2003', 2450, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,fxe4,dxe4,d6,O-O,Nf6,Nc3,Be7,Nd2,O-O,f3,Qe8,Re1,Qg6,Nf1,Nh5,Be3,Bg5,Qd2,Bxe3+,Qxe3,Nf4,Qd2,Nd4,Bc4+,Kh8,Kh1,Bh3,Ne3,Nxg2,Nxg2,Rxf3,Rg1,Raf8,Raf1,Qh5,Be2', 'Bxg2+,Rxg2,Rxf1+,Bxf1,Rxf1+', 'https://lichess.org/training/rEKiN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rEKOn', 'Rapid', 'bejoysen', 1783, 'hrishp', 1789, 'e4,d5,exd5,Qxd5,Nf3,Qe6+,Qe2,Qxe2+,Bxe2,Nf6,O-O,Nc6,Nc3,Bg4,h3,Bxf3,Bxf3,O-O-O,d3,e5,Bg5,h6,Bxf6,gxf6,Ne4,Be7,Nc3,Rhg8,Bxc6,bxc6,f4,Rd4,fxe5,fxe5,Rxf7,Bc5,Kh1,Rb4,b3', 'Bd4,Raf1,Bxc3', 'https://lichess.org/training/rEKOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rELTr', 'Rapid', 'Uch_sasuke', 2024, 'Wyzon99', 2228, 'c4,e5,Nc3,Bc5,g3,Nf6,Bg2,c6,e3,O-O,Nge2,Re8,O-O,d5,cxd5,cxd5,d4,exd4,exd4,Bb6,Bg5,Be6,Bxf6,Qxf6,Nxd5,Bxd5,Bxd5,Qe7,Re1,Nc6,Rc1,Rac8,Bg2,Ba5,Nc3,Qxe1+,Qxe1,Rxe1+,Rxe1,Nxd4,Bxb7,Rb8,Bd5,h6,Re7,Rxb2,Nd1,Rb1', 'Re8+,Kh7,Be4+,g6,Bxb1', 'https://lichess.org/training/rELTr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rEMqb', 'Rapid', 'sohail_shaikh', 1757, 'rainaid4921', 1705, 'e4,e5,Nc3,Nc6,Nf3,Bc5,b3,Nf6,Bb2,Bd4,Nxd4,Nxd4,Ne2,Nxe2,Qxe2,d6,h3,Qe7,Qe3,O-O,Be2,Nd7,Bg4,Nf6,Bxc8,Raxc8,O-O,Nh5,Rfe1,Nf4,d4,Qg5,Qf3,f5,dxe5,dxe5,Bxe5,fxe4,Bxf4,Rxf4,Qe3,Qf6,c4,b6,g3,Rf3,Qxe4,Rxf2,Rf1,Rf8,Qe1', 'Rxf1+,Qxf1,Qd4+,Kh1,Rxf1+', 'https://lichess.org/training/rEMqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('REMQX', 'Rapid', 'jovial69', 1882, 'DeMobieleBrigade', 2032, 'd3,d5,Nc3,e5,e4,d4,Nce2,c5,f4,Nc6,Nf3,Qc7,fxe5,Nxe5,Nxe5,Qxe5,Bf4,Qh5,Qd2,Be7,Ng3,Qh4,Be2,Nh6,O-O,Ng4,Bxg4,Bxg4,Rae1,O-O,Nf5,Qf6,Bg3,Qe6,Nxe7+,Qxe7,Qf4,Be6,Rf2,b5,Ref1,Rac8,Bh4,Qc7,Qg5,a5,Bg3,Qd8,Qc1,c4,Qe1,cxd3,cxd3,Bxa2,e5,Be6,Qe4,Qd5,Qh4,a4,Rf6,gxf6,Qxf6,Qd8,Qh6,f6,Bh4,Qe8,Bxf6,Qg6,Qd2,Bf5,Be7,Rfe8,Bd6,Bxd3,Rf6,Qg7,Qxd3,Rc1+,Kf2,Rcc8,Rf3,Rcd8', 'Rg3,Re6,Rxg7+', 'https://lichess.org/training/REMQX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RenhI', 'Rapid', 'efdiOO7', 1630, 'Coco-Chanel', 1630, 'e4,e5,Nf3,d6,Bc4,h6,d4,a6,dxe5,Nc6,exd6,Bxd6,O-O,Bg4,Nc3,Qe7,Qd3,O-O-O,Bd5,Nb4,Qc4,Bxf3,gxf3,g5,Na4,Qe5,Rd1,Qxh2+,Kf1,Qh3+,Ke2,g4,Bxb7+,Kxb7,Nc5+,Kc8,Qxb4,Qxf3+,Ke1,Bxc5,Rxd8+,Kxd8,Qxc5,Qxe4+,Be3,Nf6,Rd1+,Ke8,Qd4,Qxd4,Bxd4,Ke7,Kf1,Rg8', 'Re1+,Kd6,Bxf6', 'https://lichess.org/training/RenhI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('REP2k', 'Bullet', 'chessKyev', 1544, 'piousheart', 1514, 'd4,f5,c4,Nf6,Nc3,d5,Nf3,Nc6,Bf4,e6,e3,Bd7,cxd5,Nxd5,Nxd5,exd5,Bd3,Bb4+,Ke2,O-O,Qc2,Qe7,a3,Ba5,b4,Bb6,Rhe1,Rae8,Ne5,g5,Nxd7,gxf4,Nxf8,fxe3,Kf1,Bxd4,Rad1,Qxf8,Bxf5,Re7,Bd3,Rf7,f3,Rxf3+,gxf3', 'Qxf3+,Kg1,e2#', 'https://lichess.org/training/REP2k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RepIg', 'Rapid', 'Lemaye', 2005, 'Chibulo', 1955, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,d6,Ne3,Nf6,Nc3,a6,Bd3,Be7,Ned5,O-O,O-O,h6,f4,exf4,Bxf4,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/RepIg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Repx6', 'Classical', 'rolandas61', 1666, 'ilsoprano', 1776, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Bc5,c3,Nf6,d3,O-O,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be7,f4,Nh7,h4,Kg7,Qh5,f6,Bh6+,Kh8,Bxf8,Qxf8,Nd2,Qg7,O-O-O', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/Repx6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ReQuu', 'Classical', 'bambaNG_48', 1889, 'Mahrez_Alg', 1783, 'd4,Nf6,Nc3,g6,e4,d6,Bd3,Bg7,Nf3,Nbd7,Be3,a6,a3,b5,O-O,O-O,e5,dxe5,dxe5,Ne8,Bf4,e6,Re1,c5,Ne4,c4,Be2,Bb7,Nd6,Nxd6,Qxd6,Rc8,Rad1,Qc7', 'Qxd7,Qxd7,Rxd7', 'https://lichess.org/training/ReQuu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('reREt', 'Rapid', 'aptyu', 1612, 'BenJamin247365234567', 1672, 'e4,d5,c3,d4,d3,e5,Nf3,Nf6,Bg5,Bd6,cxd4,Bg4,Nbd2,h6,Be2,hxg5,dxe5,Bxf3,Nxf3,Bb4+,Kf1,g4,exf6,gxf3,gxf3,Qxf6,Qa4+,Nc6,d4,O-O-O,d5,Qxb2,Kg2,Nd4,Bb5,Nxf3,Kxf3,Rh3+,Kg2,Ra3,Qd1,Bc5,Be2,Qc3,Rc1,Qh3+,Kg1,Rg3+,hxg3', 'Qxg3+,Kf1,Qxf2#', 'https://lichess.org/training/reREt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ReRNf', 'Rapid', 'Master_Class98', 1657, 'aneuksawang', 1662, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bd3,h6,O-O,O-O,f4,c5,Nf3,Nh7,Nd5,Bg4,h3,Bh5,b3,f5,Qd2,Nf6,Bc4,Kh8,e5,Ne4,Qd3,Ng3,Re1,dxe5,Nxe5,Ne4,Qe3,Bf6,Nxf6,Qxf6,Bb2,Qe7,Be2,Be8,a4,Nc6,Nxc6,bxc6,Ba3,Rd8,Bxc5', 'Qxc5,Qxc5,Nxc5', 'https://lichess.org/training/ReRNf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('REROG', 'Bullet', 'sivajay5', 1656, 'Boll', 1673, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Be7,Re1,d6,c3,a6,Ba4,O-O,d4,exd4,cxd4,Bg4,Bxc6,bxc6,Nc3,Re8,h3,Bh5,Qd3,Bg6,Bg5,Rb8,Qd2,h6,Bh4,Nd7,Bxe7,Rxe7,e5,Qe8,exd6,cxd6,Rxe7,Qxe7,Re1,Qf6,Qe2,c5,dxc5,Nxc5,Nd5,Qxb2,Ne7+,Kh7,Nxg6,fxg6,Qe7,Qxa2,Qxd6,Nd3,Qxb8', 'Qxf2+,Kh2,Nxe1,Nxe1,Qxe1', 'https://lichess.org/training/REROG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('REsMe', 'Rapid', 'mr_smile', 1711, 'Darkness9', 1688, 'e4,Nf6,Nc3,e5,Nf3,Bb4,Bc4,O-O,d3,Bxc3+,bxc3,d5,exd5,Nxd5,Bxd5,Qxd5,O-O,Bg4,h3,Bxf3,Qxf3,Qxf3,gxf3,Nc6,f4,Rac8,Be3,Rfe8,Rab1,b6,d4,exf4,Bxf4,Re2,Rb2,Na5,a4,Nc4,Ra2,Nd2,Bxd2,Rxd2,Re1,Kf8,Kf1,Re8', 'Rxe8+,Kxe8,Ke1,Rxf2,Kxf2', 'https://lichess.org/training/REsMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RET6h', 'Rapid', 'vlad202010', 1829, 'mischal', 1847, 'd4,d6,c4,Nf6,Nc3,g6,e4,Bg7,Bg5,h6,Be3,O-O,Nf3,Nbd7,Bd3,c5,d5,a6,a4,b6,O-O,Bb7,Qd2,Ng4,Bf4,e5,Bg3,f5,h3,f4,Bh4,Ngf6,Bxf6,Nxf6,Rfe1,Bc8,Bc2,Bd7,Rab1,Qc8,Bd1,Bxh3,gxh3,Qxh3,Nh2,Nh5,f3,Qg3+,Kh1,Kh7,Rg1,Qh3,Qg2', 'Ng3+,Qxg3,fxg3', 'https://lichess.org/training/RET6h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ReT7Y', 'Blitz', 'serdaroquai', 1636, 'demon171', 1635, 'd4,d6,Bf4,Nf6,Nf3,g6,e3,Bg7,Bd3,Bg4,Nbd2,c6,h3,Bxf3,Nxf3,Nbd7,c4,d5,Ne5,O-O,cxd5,cxd5,g4,Qa5+,Kf1,e6,g5,Nxe5,gxf6,Nxd3,fxg7,Kxg7,Qxd3,Rac8,Bd6,Rfd8,Be7,Rd7,Bg5,f6,Bf4,g5,Rg1,h5,h4,g4,f3,f5,Be5+,Kh6,fxg4,fxg4,e4,Rf7+,Ke2,Rf3,Qd2+,Qxd2+,Kxd2,dxe4,Rae1', 'Rd3+,Ke2,Rc2+,Kf1,Rf3#', 'https://lichess.org/training/ReT7Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('reTIn', 'Rapid', 'Amerbluish', 1680, 'arnoldotobon', 1666, 'c4,e5,Nc3,c6,g3,Be7,Bg2,d6,Nf3,Nf6,d4,Nbd7,O-O,O-O,Qc2,Nb6,b3,d5,c5,e4,Ne5,Nbd7,Bf4,Nh5,Be3,Nxe5,dxe5,f6,Rad1,fxe5,Nxe4,Bf5,Qb2,Qc7,Nd2,d4,Bxd4,exd4,Qxd4,Bf6,Qc4+,Kh8,g4,b5,Qb4,Bc2,Rc1,a5,Qa3,b4,Qa4,Nf4,Rxc2,Nxe2+,Kh1,Qf4,Qxc6,Nd4,Rc4,Qxd2,Qd6,Qe2,Rxd4,Bxd4,Qxd4,Rad8,Qe3,Qxg4,c6,Rc8,Rc1,h6,Bh3,Qf3+', 'Qxf3,Rxf3,Bxc8', 'https://lichess.org/training/reTIn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ReTR6', 'Rapid', 'pawner85729', 1917, 'bish-op', 1893, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,c6,Nc3,O-O,Bf4,d5,cxd5,Nxd5,Nxd5,cxd5,Rc1,Bf5,e3,Qa5+,Qd2,Qxa2,Ne2,Nd7,O-O,Nf6,Nc3,Qa5,Qd1,Rac8,Qb3,Rfd8,Ra1,Qb6,Qa2,a6,Bxd5,Nxd5,Nxd5,Qe6,Nc3,Bh3,Rfc1,Qc6,d5,Qc5,Ne2,Qb5,Rxc8,Rxc8,Nc3,Bxc3,bxc3,Rxc3,Qd2,Rd3,Qe1,Qxd5,e4,Qd4,Rc1,Kg7,Be3,Qf6,Qe2,Rb3,f4,Rb2,Rc2,Rb1+,Rc1,Qb2', 'Qxb2+,Rxb2,Bd4+,Kf8,Bxb2', 'https://lichess.org/training/ReTR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('reu9q', 'Rapid', 'Dalib007', 1775, 'opqa', 1733, 'd4,e6,Nc3,Bb4,Bd2,Bxc3,Bxc3,d5,Qd3,Bd7,O-O-O,a6,f3,Bb5,Qd2,Nc6,b3,Qe7,a4,Qa3+,Bb2,Qb4,axb5,axb5,Qxb4,Nxb4,e4,Nf6,Bxb5+,c6,Bd3,dxe4,fxe4,Ng4,Nh3,O-O,Kd2,Ra2,Bc3,Nxd3,Kxd3,Rd8,Ra1,Rxa1,Rxa1,f6,Ra7,Rd7,Kc4', 'b5+,Kc5,Rxa7', 'https://lichess.org/training/reu9q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rEudF', 'Rapid', 'diskala', 1754, 'domhabs', 1748, 'e4,c5,Bc4,d6,Nf3,g6,Ng5,e6,Qf3,Qxg5,d3,Qd8,Nc3,Bg7,Bf4,Nf6,Nb5,e5,Bg5,Nc6,h3,a6,Nc3,Nd4,Qd1,Qc7,Bxf6,Bxf6,Nd5,Qd8,c3,Ne6,Qf3,Bg7,a4,a5,Bb5+,Bd7,Bxd7+,Kxd7', 'Qxf7+,Kc8,Qxe6+', 'https://lichess.org/training/rEudF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RExh6', 'Blitz', 'Gardeliano36', 1608, 'Emrellll', 1639, 'f4,d5,Nf3,c5,d3,g6,Nc3,d4,Nb1,Bg7,e3,Nc6,e4,e5,f5,Nf6,Be2,O-O,O-O,c4,Ng5,h6,h4,hxg5,hxg5,Nh7,fxg6,fxg6,Rxf8+,Kxf8,dxc4,Nxg5,b3,Nxe4,Bd3,Ng3,Bxg6,Qh4,Qf3+,Kg8', 'Qf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/RExh6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ReYbT', 'Rapid', 'rorschah', 1879, 'yunsur', 1941, 'e4,Nf6,e5,Nd5,c4,Nf4,d4,g5,g3,Ne6,Bg2,h6,Ne2,d6,Qb3,Na6,Bxb7,Bxb7,Qxb7,Qc8,Qc6+,Kd8,Nbc3,Rb8,Nb5,Ra8,Bd2,dxe5,dxe5,Nac5,O-O-O,Nd7,Ba5,a6,Nxc7,Nxc7,Bxc7+,Ke8,Nd4,Bg7,Ba5,Bxe5,Qxc8+,Rxc8,b3,Nf6,Nf3,Bc7,Bc3,Rg8,Bxf6,exf6,Rhe1+,Kf8,Rd7,Kg7,Ree7,Bb6,Rxf7+,Kg6,Nd2,Bxf2,Ne4,Be3+,Kc2,Rc6,Rfe7,Bg1,h3,Bh2,g4,Bf4,Kd3,h5,Kd4,Be5+,Kd5,Rcc8,Ra7,Rgd8+,Ke6', 'Rc6+,Nd6,Rcxd6#', 'https://lichess.org/training/ReYbT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('reYcM', 'Rapid', 'Ravshanjon', 1827, 'aStepanov', 1660, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,Bb4,Nd6+,Bxd6,Qxd6,Qe7,Qxe7+,Nxe7,Bg5,b6,O-O-O,Bb7,Bxf6,gxf6,Bb5,O-O-O,Rd6,f5,exf5,Nxf5,Rf6,Nd4,Rxf7,Nxb5,Nxb5,Kb8,f3,d5,Re1,e4,fxe4,dxe4,g3,h5,Nc3,Rde8,Rf4,e3,Nd1,e2,Nc3,Ba6,Rf2,Rhf8,Rxf8,Rxf8,Kd2,Rf2,h4,Rg2,Ne4,Bb7,Nd6,Rxg3,Rxe2,Bf3,Rh2,Kc7,Nb5+,Kb7,Nd4,Bg4,Ne2,Bxe2,Kxe2,Rg4,b3,Kc6,a4,Kc5,Kf3,Kd4,Rd2+,Kc3,Rh2,a5,Ke3,Rg3+,Kf4,Rg4+,Ke5,Rg1,Kd5,Rc1,Kc6,Rxc2', 'Rxc2+,Kxc2,Kxb6', 'https://lichess.org/training/reYcM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rEynP', 'Rapid', 'Ivan1950', 2481, 'kostas95', 2145, 'd4,d5,Bf4,c6,e3,Bf5,c3,Nf6,Nf3,e6,Nbd2,Bd6,Ne5,O-O,Be2,Qc7,Bg3,Nbd7,f4,Ne4,Nxe4,Bxe4,O-O,f6,Nxd7,Qxd7,Qb3,Rae8,c4,e5,fxe5,fxe5,Rxf8+,Kxf8,cxd5,Bxd5,Bc4,Bb8,Bxd5,cxd5,Rf1+,Kg8,e4,exd4,Bxb8,Rxb8,exd5,Rd8,Rd1,Qxd5', 'Rxd4,Qxb3,Rxd8+,Kf7,axb3', 'https://lichess.org/training/rEynP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('REzet', 'Rapid', 'LilFri_Ri', 1759, 'pendinogiorgio', 1729, 'e4,e5,Nf3,Bc5,Bc4,d6,d4,exd4,Bxf7+,Kf8,Bxg8,Rxg8,Ng5,h6', 'Qf3+,Qf6,Nh7+', 'https://lichess.org/training/REzet');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rF18v', 'Classical', 'adumbname', 1790, 'prsstrk', 2084, 'Nf3,d5,d4,Nf6,Bg5,Ne4,Qd3,Nxg5,Nxg5,h6,Nh7,Rxh7,Qxh7,g6,Nc3,Be6,h4,Nd7,h5,Nf6,Qh8,g5,O-O-O,Qd6,g3,O-O-O,Bh3,Bxh3,Rxh3,e5,f3,exd4,Rxd4,c5,Ra4,d4,Nb5,Qd7,Qxf6,Be7,Nxa7+,Kb8,Qxf7,g4,Qf4+', 'Bd6,Qxg4,Qxa4', 'https://lichess.org/training/rF18v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rF2Hk', 'Classical', 'Vincens', 2015, 'ChessMasterLaza', 1925, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,Nf6,Bg5,Be7,Be2,Nbd7,Qd3,h6,Bh4,b6,O-O-O,Bb7,Kb1,c5,Bxf6,Nxf6,dxc5,Bxc5', 'Qb5+,Ke7,Rxd8', 'https://lichess.org/training/rF2Hk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RF6nb', 'Rapid', 'anonymus07', 1804, 'RAMCHARAN', 1721, 'd4,e6,c4,c5,d5,exd5,cxd5,Nf6,Nc3,b6,e4,Bb7,f4,g6,e5,Ng8,Nf3,Ne7,Bb5,Bg7,O-O,O-O,Re1,a6,Bd3,Nxd5,Nxd5,Bxd5,Bxg6,Bxf3,Bxh7+,Kxh7,Qxf3,Nc6,Re3,Rh8,Bd2,Nd4,Qe4+,Kg8,Bc3,d5,exd6,Qxd6,Qxa8+,Kh7,Rh3+,Bh6,Qe4+,Kg8,Rd1,Bxf4,Rxh8+,Kxh8,Bxd4+,cxd4,Qxd4+', 'Qxd4+,Rxd4,Be3+,Kf1,Bxd4', 'https://lichess.org/training/RF6nb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rF7fp', 'Blitz', 'RJF72', 2239, 'Soompon', 2187, 'd4,Nf6,Nc3,d5,e4,Nxe4,Nxe4,dxe4,Be3,Bf5,g4,Bg6,Ne2,e6,Nf4,Bd6,Bg2,Bxf4,Bxf4,c6,Qd2,Nd7,O-O-O,h5,h3,Qb6,Rde1,f5,gxf5,exf5,f3,Nf6,Be5,O-O-O,Bxf6,gxf6,fxe4,Rxd4,Qc3,fxe4,Rhf1,f5,h4,Rhd8,Bh3,R4d5,Rxe4,Kb8,Ref4,Rc5,Qg3,Qa5,Rxf5+,Ka8,Rxc5', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/rF7fp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rF7W2', 'Rapid', 'stason-14', 1712, 'Wolwo', 1712, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,Bg4,h3,Bh5,c3,Nf6,Re1,Bg6,d3,Na5,Bb3,Nxb3,axb3,Be7,Nbd2,O-O,d4,Bh5,dxe5,dxe5,g4,Nxg4,hxg4,Bxg4,Nc4', 'Qxd1,Rxd1,Bxf3', 'https://lichess.org/training/rF7W2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rF9xS', 'Blitz', 'Johan_KotaSukabumi', 2398, 'FM Den78', 2344, 'd4,d5,Bf4,c5,Nf3,Nc6,e3,Qb6,Nc3,cxd4,exd4,Qa5,a3,a6,h3,Nf6,Bd3,e6,O-O,Be7,Re1,O-O,Ne2,Bd7,Ng3,Qd8,c3,h6,Ne5,Nxe5,Bxe5,Bb5,Bc2,Bd6,Qf3,Bxe5,dxe5,Nh7,Qe3,Qg5,f4,Qh4,Kh2,Rac8,Rad1,Rc4,Rd4,Rfc8,a4,Bd7,Rf1,Nf8,f5', 'Rxd4,cxd4,Rxc2', 'https://lichess.org/training/rF9xS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rfAGK', 'Blitz', 'Samilmisa', 1707, 'Dovelove168', 1759, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,cxd4,cxd4,Qb6,Be3,Qxb2,Nbd2,Bb4,Be2,Nge7,O-O,Bxd2,Bxd2,Qb6,Be3,Qc7,Rc1,Bd7,Ng5,h6,Nf3,Nf5,Bf4,Qb6,Rb1,Qc7,Qb3,Rb8,Rbc1,g5,Be3,g4,Nd2,h5,Qb2,Qb6,Qxb6,axb6,Nb3,Ra8,Rc2,Nb4,Rb2,Rxa2', 'Rxa2,Nxa2,Ra1,O-O,Rxa2', 'https://lichess.org/training/rfAGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rfAiK', 'Classical', 'Roadto2150', 1717, 'dotbomb', 1778, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,e3,Bd6,Nf3,c6,Bd3,Bg4,O-O,Nbd7,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Re1,O-O,h3,Bh5,d5,Nxe4,Rxe4,cxd5,Rh4,Bxf3,Qxf3,Qxh4,Qxd5,Qf6,Bg5,Qe5,Rd1,Qh2+,Kf1,Qh1+,Ke2,Rfe8+,Kf3,Qh2,Qxd6,Qxd6,Rxd6,f6,Be3,b6,Rd7,Kf8,a3,Re7,Rd4,Kf7,Ra4,Rc8,b4,Rc4,Ra6,g6,b5,f5,g3,Ke6,a4,Rb7,a5,Ra4', 'axb6,axb6,Rxa4', 'https://lichess.org/training/rfAiK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFaJR', 'Classical', 'Alcalmisov', 1750, 'siverf0x', 1752, 'Nf3,d5,d4,Nc6,e3,Bg4,Nbd2,Qd6,h3,Bxf3,Nxf3,O-O-O,a3,f6,Bd3,e5,dxe5,fxe5,e4', 'dxe4,Ng5,exd3', 'https://lichess.org/training/rFaJR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFBHy', 'Rapid', 'Dr_MagnusCarlsen877', 1936, 'Rakovia', 2078, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,Bg5,Be7,Nf3,h6,Bf4,Bf5,e3,O-O,Bd3,Bxd3,Qxd3,a6,O-O,b5,Ne4,Re8,Nxf6+,Bxf6,Qf5,Bxb2,Rab1,Bf6,Qg4,Kh7,Rfe1,Re4', 'Qf5+,g6,Qxe4', 'https://lichess.org/training/rFBHy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFhkk', 'Blitz', 'CM agsjgm', 2357, 'Ess_danny', 2150, 'e4,e5,Nf3,d6,d4,Nd7,Bc4,c6,Nc3,Be7,a4,Ngf6,O-O,O-O,h3,Qc7,Qe2,a6,Ba2,c5,dxe5,dxe5,Nh4,Nb6,Qf3,c4,Nf5,Be6,Bg5,Rad8,Rfd1,Rfe8,a5,Nc8,Rxd8,Rxd8,Nxe7+,Qxe7,Rd1,Rxd1+,Qxd1,h6,Bh4,Kh7,Bg3,Nd7,Nd5,Qd8,Bxc4,Ne7,Nxe7,Qxe7,Bd5,Qd6,c3,f6,b4,Nb8,Qb3,Bxd5,exd5,Nd7,c4,f5,c5,Qe7,c6,bxc6,dxc6,Nb8,Qd5,f4,Bh2,Qxb4,g4,Qe7,f3,Qc7,Kg2,Nxc6,Bg1,g6,Bb6,Qc8,Qf7+,Kh8,Bc5,Qg8', 'Qf6+,Kh7,Qxc6', 'https://lichess.org/training/rFhkk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RFiuv', 'Classical', 'cfaulkner', 1879, 'hffhh', 1940, 'd4,d5,c4,e6,Nc3,f5,Nf3,Nf6,Bf4,c6,e3,Bb4,a3,Bxc3+,bxc3,Ne4,Qb3,O-O,Bd3,Qa5,Bxe4,fxe4,Ne5,Qd8,O-O,b6,Rfc1,Bb7,cxd5,exd5,c4,Nd7,cxd5,cxd5,Nc6,Bxc6,Rxc6,Nf6,Rd6,Qc8,Be5,Qc4,Qb2,Rac8,h3,Rc6,a4,Rfc8,Qa3,a6,Rxc6,Qxc6,Qe7,Qd7', 'Bxf6,Qxe7,Bxe7', 'https://lichess.org/training/RFiuv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFkaD', 'Rapid', 'yeepes', 1768, 'Sanchez422', 1730, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,d5,exd5,exd5,Bb5,Qb6,Ba4,c4,Nc3,Nf6,O-O,Be7,Be3,Qxb2,Qd2,O-O,Bb5,Qa3,Ne5,Nxe5,dxe5,Ng4,Nxd5,Rd8,Bxc4,Nxe5,Rfd1,Be6,Nxe7+,Qxe7,Bd3,Bc4,Bg5,f6,Re1,Bxd3,cxd3,Rxd3', 'Qxd3,Nxd3,Rxe7', 'https://lichess.org/training/rFkaD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFkUd', 'Rapid', 'dz18a', 1870, 'chessabc07', 1897, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kf1,Qe7,Nxh8,d5,Kxf2,Nxe4+,Kg1,Qh4,g3,Nxg3,Bxd5,Qd4+,Kg2,Nxh1,Bf7+,Ke7,Kxh1,Bf5,d3', 'Be4+,dxe4,Qxd1+', 'https://lichess.org/training/rFkUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RFM9m', 'Rapid', 'BoskoRadic77', 1966, 'xvii1725', 1885, 'd4,b5,Nf3,Bb7,e3,a6,a4,c6,axb5,axb5,Rxa8,Bxa8,c4,bxc4,Bxc4,e6,e4,d5,exd5,cxd5,Bb5+,Bc6,Bxc6+,Nxc6,Qa4,Qa5+,Qxa5,Nxa5,O-O,Nf6,Nc3,Be7,Ne5,h6,f3,O-O,Bd2,Nb3,Be1,Nxd4,h4,Bd6,Bg3,Nh5,Bh2,f6,Ng6,Bxh2+,Kxh2,Rb8,g4,Rxb2+,Kh3,Rb3,Rc1,Nxf3,gxh5,d4,Ne4,Ng5+,Kg4,Nxe4', 'Rc8+,Kf7,Rf8#', 'https://lichess.org/training/RFM9m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RfnZC', 'Rapid', 'Abdirizak', 1920, 'goodliffe', 1914, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,c4,dxc4,Bxc4,e6,O-O,Be7,h3,O-O,Qb3,Nc6,Bb5,Nxd4,Nxd4,Qxd4,Be3,Qh4,Nd2,Rd8,Nf3,Qh5,Rad1,Nd5,Be2,b6,Nd4,Qh4,Nc6,Nxe3,Qxe3,Rxd1,Rxd1,Bb7,Qf3,Bc5,Rd7,Bxc6', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/RfnZC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFOxa', 'Blitz', 'riskZ2021', 1792, 'pedidep', 1747, 'e4,c5,Bc4,d6,Nc3,Nf6,d3,g6,f4,Bg7,Nf3,O-O,O-O,Nc6,Ne2,a6,a4,Bg4,c3,Rb8,h3,Bd7,Ng3,b5,axb5,axb5,Bb3,Qb6,Kh2,b4,e5,dxe5,fxe5,Ne8,d4,cxd4,cxd4,Na5,Ba2,Bb5,Re1,Nc7,Ng5,b3,Bb1,Rfc8,Qf3,Bc6,Qxf7+,Kh8,Bxg6,Rf8,Qxe7,Nd5,Qc5,Qxc5,dxc5,hxg6,Rxa5,Rf2,Ne6,Bh6,Bxh6,Ne3,Bxe3', 'Rxg2+,Kh1,Rxg3+,Kh2,Rg2+', 'https://lichess.org/training/rFOxa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RFPLU', 'Rapid', 'ArchangelG', 1646, 'Fasriyaa', 1637, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Qe7,O-O,Nf6,Nc3,O-O-O,Nd5,Nxd5,Bxd5,Nd4,Qg4+,Kb8,c3,h5,Qd1,Nb5,Qb3,a6,a4,c6,Bc4,d5,exd5,cxd5,Bxb5,axb5,axb5,Qc5+,d4,exd4,cxd4,Qxd4+,Kh1,Bc5,Ra4,Qf6,Be3,d4,Bd2,g5,Qa2,g4,Ra8+,Kc7,Qa5+,Bb6,Rc1+,Kd7,Rxd8+,Rxd8,Qb4,gxh3,gxh3,Rc8,Rxc8,Kxc8,Qf8+,Kd7,Qa8,Kc7,Ba5,Bxa5,Qxa5+,Qb6,Qe1,Qe6,Qd2,Qd5+,Kg1,Qe4,Qa5+,b6,Qa7+,Qb7,Qxb7+', 'Kxb7,Kf2,Kc7,Kf3,Kd6,Ke4,Kc5', 'https://lichess.org/training/RFPLU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFPRi', 'Blitz', 'eperopolis0', 1526, 'Jimi_chess', 1551, 'd4,d5,Bf4,Bf5,Nf3,e6,c3,Bd6,Bg3,Nf6,e3,O-O,Nbd2,Nbd7,Be2,Qe7,b4,Bxg3,hxg3,e5,dxe5,Nxe5,Nd4,Bd7,N2b3,Ba4,Qb1,Bxb3,axb3,b6,Ba6,c6,Bb7,Qxb7,f4,Neg4,Qc2,Qe7,O-O-O,Qxe3+,Kb1,Qxg3,Nxc6,Ne3,Ne7+,Kh8,Rxh7+,Nxh7', 'Qxh7+,Kxh7,Rh1+,Qh4,Rxh4#', 'https://lichess.org/training/rFPRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFQxy', 'Rapid', 'stavrosthassos', 1759, 'pistou84', 1737, 'd4,d5,Bf4,Nf6,e3,Bf5,c3,e6,Nf3,h6,Bd3,Bxd3,Qxd3,Be7,Nbd2,O-O,h4,Nbd7,e4,dxe4,Nxe4,c5,O-O-O,cxd4,Qxd4,Rc8,Ne5,Nxe5,Qxe5,Qb6,Nxf6+,Bxf6,Qe3,Qc6,Qg3,Kh7,Qd3+,Kh8,Rhg1,Rfd8,Qc2,Qc4,Rxd8+,Rxd8,Be3,Qxa2,g3,Qa1+,Qb1,Qxb1+,Kxb1,b5,Bxa7,Rd2,Re1,Be7,Re5,b4,cxb4,Bxb4,Rb5,Be7,Rb7,Bf6,Rxf7,Rxb2+,Kc1,Re2,Rd7,Kh7,Rd3,e5,Rd7,Kg6,Bc5,Re4,f3', 'Rc4+,Kd2,Rxc5', 'https://lichess.org/training/rFQxy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RfrH7', 'Classical', 'adamunge', 1981, 'Jenniera', 2175, 'd4,d5,Nc3,e6,Bf4,Nf6,e3,Bd6,Bd3,Bxf4,exf4,b6,Nf3,Bb7,Ne5,O-O,Qd2,Nbd7,f3,c5,Nb5,a6,Nd6,Qc7,Nxb7,Qxb7,c3,b5,g4,c4,Bc2,Ne8,g5,g6,h4,Ng7,h5,Nxh5,Rxh5,gxh5,Qh2,f5,gxf6,Nxf6,O-O-O,Kh8,Qh3,Rae8,Rg1,Rg8,Rg5,a5,Rxh5,Nxh5,Qxh5,Qg7', 'Nf7+,Qxf7,Qxf7', 'https://lichess.org/training/RfrH7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RFrme', 'Blitz', 'IM BUNKADIOGO', 2501, 'Sergiorman', 1892, 'e4,c6,d4,Qb6,Nf3,d6,Be2,Nf6,Nc3,Bg4,O-O,Nbd7,e5,Bxf3,Bxf3,dxe5,dxe5,Nxe5,Be3,Qxb2,Bd4,Nxf3+,Qxf3,O-O-O,Rab1,Qxb1,Rxb1,Rxd4,Qe3,e5,Qxe5,Rd7,Qa5,Kb8,Na4,Rd5,Qa6', 'Rd1+,Rxd1,bxa6', 'https://lichess.org/training/RFrme');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFroS', 'Bullet', 'Andrei_Kudryshov', 1783, 'ftri67', 1787, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Bd6,h3,O-O,O-O,h6,Re1,c6,Ne5,Be6,Bf4,Nbd7,c3,Qc7,Nxd7,Qxd7,Bc1,Rfe8,Nd2,Bxh3,gxh3,Qxh3,Rxe8+,Rxe8,Nf3,Ng4,Bf1', 'Bh2+,Kh1,Nxf2#', 'https://lichess.org/training/rFroS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rfRPn', 'Rapid', 'sunnythelolicon', 1915, 'DerFabimitderPflanze', 1912, 'e4,Nf6,f3,e5,Nc3,d5,Qe2,Nc6,d3,Bb4,Bd2,O-O,O-O-O,d4,Nb1,Qe7,Bxb4,Qxb4,a3,Qb6,Nh3,Be6,Ng5,Rfe8,h4,Na5,Nd2,Nb3+,cxb3,Bxb3,Nxb3,Qxb3,Qc2,Qa2,Kd2,c5,h5,b5,Be2,c4,Ra1', 'c3+,bxc3,dxc3+,Kd1,Qxa1+', 'https://lichess.org/training/rfRPn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFrTZ', 'Rapid', 'mb49', 2059, 'alcarax', 2003, 'e4,d5,exd5,Nf6,Bc4,Nxd5,d3,Nc6,c3,Bf5,d4,e6,Ne2,Bd6,O-O,O-O,h3,a6,Nd2,b5,Bb3,Qe7,Nf3,Rfd8,Ng3,Bg6,Bg5,Nf6,Re1,h6,Bxf6,Qxf6,Ne4,Bxe4,Rxe4,Ne7,Bc2,c5,Qd3,cxd4,Rxe6,Qxe6,Qh7+,Kf8,Re1,Qf6', 'Qh8+,Ng8,Bh7', 'https://lichess.org/training/rFrTZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RFSnK', 'Rapid', 'PiyushG9', 1774, 'Anuj_patwa', 1662, 'Nf3,d5,e4,dxe4,Ng5,Nf6,d3,h6,Nxe4,Nxe4,dxe4,Qxd1+,Kxd1,Nc6,b3,Be6,Bb2,O-O-O+,Nd2,Nd4,Bd3,f5,Bxd4,Rxd4,exf5,Bd5,f3,e6,fxe6,Bxe6,Ke2,Bd6,h3,Re8,Kf2,a6,Rhe1,Rd5,Ne4,Bd7,Re2,Be5,Rae1,Kd8,b4,Bf5,c4', 'Rxd3,Nc5,Bd4+', 'https://lichess.org/training/RFSnK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RfSoS', 'Rapid', 'Gusadrin', 1908, 'arsenalfanrichi', 1862, 'c4,c6,d4,d5,e3,Nf6,Nf3,Bf5,Be2,e6,h3,Bb4+,Nc3,O-O,a3,Be7,O-O,dxc4,Bxc4,c5,Qb3,Qd7,Ne5,Qc8,d5,exd5,Nxd5,Nxd5,Bxd5,Nc6,Nxf7,Rxf7,Bxf7+,Kh8,Bd5,Bxh3,gxh3,Qxh3,Bg2,Qg4,e4,Nd4,Qxb7,Ne2+,Kh2,Qh4+,Bh3,Bd6+,f4', 'Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/RfSoS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RFt6T', 'Rapid', 'crudolph', 1824, 'Ambidestro', 1773, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,d4,d6,e4,Re8,Nge2,e5,d5,Nbd7,O-O,a5,a3,Nc5,Be3,b6,b4,axb4,axb4,Rxa1,Qxa1,Ncd7,Nc1,Ng4,Bd2,f5,h3,Nh6,Nd3,fxe4,Nxe4,Nf6,Qc1,Nf7,Bg5,h6,Nxf6+,Bxf6,Bxh6,e4,Ne1,g5,Qb1,Nxh6,Bxe4,Bxh3,Bh7+,Kg7', 'Qg6+,Kf8,Qxh6+', 'https://lichess.org/training/RFt6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RftEG', 'Rapid', 'ariapro', 1938, 'ChesspiritoMx', 1959, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Bf4,O-O,Qd2,Nd7,h4,Nc5,h5,Bg4,h6,Bxf3,hxg7,Re8,gxf3,Bf6+,Be2,Bxg7,O-O-O,Qf6,Rdg1,Rxe2,Rxg7+,Kf8,Qxe2', 'Qxf4+,Kb1,Kxg7', 'https://lichess.org/training/RftEG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rfuq2', 'Classical', 'mustafaakbulut', 1900, 'MIMmojtaba', 1941, 'd4,d5,Nf3,Nf6,e3,Bf5,Bd3,Ne4,Ne5,e6,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1+', 'https://lichess.org/training/rfuq2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RFw5X', 'Bullet', 'NM teoeo', 2113, 'FM Troglodita', 2332, 'd4,Nc6,Bf4,d5,e3,f6,Nf3,Bg4,Nc3,e5,dxe5,fxe5,Bg3,e4,Qxd5,exf3', 'Qe4+,Qe7,Qxg4', 'https://lichess.org/training/RFw5X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFWNa', 'Blitz', 'WGM meoluoi91', 2338, 'sustainability', 2122, 'd4,Nf6,c4,c5,Nf3,cxd4,Nxd4,g6,Nc3,Bg7,g3,O-O,Bg2,Nc6,O-O,Nxd4,Qxd4,d6,Qd3,Qc7,b3,a6,Bb2,Be6,Rac1,Rac8,h3,Qd7,Kh2,Nh5,Rc2,b5,Nd5,Bxb2,Rxb2,bxc4,bxc4,Bxd5,Bxd5,e6,Bg2,Qc7,Rfb1,Rfd8,Rb7,Qxc4,Qf3,Rf8,Ra7,Rc7,Rxc7,Qxc7,Qd3,a5,Rb7,Qc5,a4,Qxf2,Rb5,d5,Rxa5,Ng7,Rb5,h5,a5,h4,g4,Qf4+,Kg1,Ne8,a6,Nd6,Rb1,Ra8,Qc3,Nc4,e4,Rxa6,exd5,Ra3,Qe1,Re3,Qxh4,exd5,Bxd5,Re8,Rf1', 'Qd4+,Qf2,Qxd5', 'https://lichess.org/training/rFWNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RFwYw', 'Classical', 'seanchan2k', 1833, 'cmrobbe', 1899, 'e4,c5,Nc3,e6,Nf3,a6,Bc4,b5,Be2,Qc7,O-O,d6,d4,cxd4,Nxd4,Nf6,Bf3,Bb7,Qe2,Be7,Bd2,Nbd7,a3,Ne5,Rfe1,O-O,a4,Nxf3+,Nxf3,b4,Na2,Qxc2,Bxb4,Qxa4,e5,Nd5,exd6,Nxb4,dxe7,Rfe8,b3,Qxb3,Reb1,Qd3', 'Qxd3,Nxd3,Rxb7', 'https://lichess.org/training/RFwYw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RfXhx', 'Rapid', 'hshibli', 1795, 'holmistay09271951', 1850, 'e4,e5,Nf3,d6,Bc4,Be7,d4,Nd7,dxe5,dxe5,O-O,Ngf6,Nc3,O-O,Bg5,c6,h3,b5,Bb3,a5,a4,b4,Ne2,Nc5,Bxf6,Bxf6,Qxd8,Rxd8,Ng3,Nxb3,cxb3,c5,Rac1,g6,Rxc5,h5,Nxe5,Bxe5,Rxe5,Rd2,Rc1,Rxb2,Re8+,Kg7,Rcxc8,Ra6,e5,Rxb3,Rg8+,Kh6,Ra8,Rc6,Rxa5,h4,Rh8+,Kg5,Ne4+,Kf5,f3,Rc1+,Kh2,Rbb1,Nf2,Rf1,Rxh4,Rxf2,Rb5,b3,Rhb4,Rff1,Rxb3,Rh1+,Kg3,Ra1,R5b4,g5,Re3,Rhg1,Re2,Ra3,h4,gxh4+,Kxh4,Rh1+,Kg3,Rh5,Kf2,Rh1,Re3,Ra2+,Re2,Raa1,Ke3,Ra3+,Kd4,Rd1+,Kc5,Rc1+,Kd6,Rd3+,Ke7,Rc7+,Kf8', 'Rd8+,Kg7,f6+,Kh6,Rh8#', 'https://lichess.org/training/RfXhx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RFXkn', 'Blitz', 'abdoMansur', 1916, 'JakubTomekCZ', 1836, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,Nf6,Bg5,c6,Bd3,O-O,O-O,Bg4,h3,Bh5,Re1,Nbd7,g4,Bg6,Bxg6,hxg6,Ne5,Qc7,Rb1,Rae8,Nxd7,Qxd7,Qf3,Rxe1+,Rxe1,Nh7,Bf4,Bxf4,Qxf4,Re8,Rxe8+,Qxe8,Qc7,Qe1+,Kg2,Qd2,Qxb7,Qxc2,Qxc6,Qxb2,Nxd5,Qxd4,Qe8+,Nf8,Ne7+,Kh7,Qxf8,Qe4+,Kg3,Qe5+,Kh4', 'g5+,Kh5,g6+,Nxg6,fxg6#', 'https://lichess.org/training/RFXkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rfxN2', 'Blitz', 'chesster27', 1555, 'Denis11111', 1528, 'e4,e5,Nf3,Bc5,Bc4,Nc6,Nc3,d6,O-O,a6,d3,Bg4,Be3,Qf6,Nd5,Qd8,h3,Bh5,g4,Bg6,Bg5,Nge7,Nh4,f6,Nxg6,hxg6,Bxf6,gxf6,Nxf6+,Kf8,Qf3,Kg7,Nh5+,gxh5,Qf7+,Kh6,Qf6+,Ng6', 'g5+,Kh7,Qf7#', 'https://lichess.org/training/rfxN2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFXyi', 'Blitz', 'IM NoFastDraw', 2605, 'lephudien', 2422, 'Nf3,d5,d3,g6,g3,Bg7,Bg2,c6,O-O,Nd7,Nbd2,e6,e4,Ngf6,Re1,dxe4,dxe4,O-O,Qe2,e5,a4,Qe7,b3,Rd8,Ba3,Qe8,Nc4,Bf8,Bxf8,Qxf8,Ncxe5,Nxe5,Nxe5,Re8,Nc4,Bf5,f3,Be6,Ne3,Qc5,Qf2,Rad8,Rad1,a5,h4,h5,Bf1,Qc3,Bc4,Rxd1,Rxd1,Kg7,Bxe6,Rxe6,Qd2,Qc5,Kg2,Qa3,Qxa5,Qb2,Qd2,Qe5,Nc4,Qc5,Qe3,Qb4,Qd2,Qc5,Qd4,Qb4,Ne3,Qa3,Rd2,Qc1,Rd1,Qa3,g4,hxg4,Nxg4,Qe7,Rd2,Kh7,Nxf6+,Rxf6,Qd7,Qe5,Qg4,Qc3,Rf2,c5,Qg5,c4,bxc4,Rc6,h5,gxh5,Qxh5+,Kg7,Kh2', 'Rh6,Rg2+,Kh7', 'https://lichess.org/training/rFXyi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RfYXg', 'Rapid', 'GodsMack1982', 2295, 'Black_is_ready', 2341, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Bxc6,dxc6,Nxe5,Be7,d4,O-O,Bf4,g5,Bd2,f6,Nd3,Re8,Qh5,Nb5,c3,Bf5,Nc5,Bxc5,dxc5,Rxe1+,Bxe1,Qe7,Nd2,Qxc5,h4,Nd6,hxg5,Bg6,Nb3,Qf5,Qh6,Re8,gxf6,Qxf6,Nd4,c5,Nf3,Re2,b3,Nf7,Qh2,Be4,Qg3+,Kh8,Nd2,Bc6,Nc4,Nd6,Nxd6,cxd6,Rd1,Qe7,Bd2', 'Rxd2,Rxd2,Qe1+,Kh2,Qxd2', 'https://lichess.org/training/RfYXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rFYZn', 'Rapid', 'rezaghafuri', 2090, 'MatingAttack', 2051, 'e4,c5,c3,g6,d4,cxd4,cxd4,Bg7,Nf3,Nf6,Nc3,d6,h3,O-O,Bd3,a6,a3,b5,b4,Bb7,Be3,Nbd7,Rb1,Rc8,Qd2,Qc7,Rc1,Nb6,Nd5,Qxc1+,Qxc1,Rxc1+,Bxc1,Nbxd5,exd5,Nxd5,O-O,Rc8,Be3,Nxe3,fxe3,Bd5,e4,Bc4,Rc1,e6,Bxc4,Rxc4,Rxc4,bxc4,Kf2,d5,e5,h6,Ke3,Kf8,a4,Ke8,b5,axb5,a5,b4,a6,b3,a7,Bf8,a8=Q+,Ke7,Qb7+,Ke8,Kd2,Be7,Qc8+,Bd8,Kc3,Ke7,Nd2,Ba5+,Kb2,Bxd2,Qc5+,Ke8,g4,Be3,Kc3,h5,gxh5,gxh5,Kb2,Bf2,Ka3,h4,Ka4,Be1,Qc8+,Ke7,Qb7+,Kf8,Qc8+,Kg7,Qe8,b2,Qb5,c3,Qd3,Bd2,Kb3,f6,Kc2,fxe5,dxe5,Kh6,Qf3,d4,Qf6+,Kh5,Qxe6', 'd3+,Kxd3,b1=Q+', 'https://lichess.org/training/rFYZn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rg3T8', 'Blitz', 'M_Goat10', 1780, 'Juan_1990', 1738, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,g6,Be3,Bg7,f3,Nf6,Qd2,a6,Be2,O-O,g4,Nd7,O-O-O,a5,h4,a4,a3,Nf6,h5,Nxd4,Bxd4,Bd7,hxg6,fxg6,Bc4+,e6,Qh2,h6,Ne2,Rc8,Ba2,Qc7,Bc3,Nh7,Nd4,Bxd4,Bxd4,Rxf3,Rd2,d5,Qxh6,Bc6,Qxg6+,Kf8,Rxh7', 'Rf1+,Rd1,Qf4+,Be3,Qxe3+,Kb1,Rxd1#', 'https://lichess.org/training/Rg3T8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rG3tA', 'Rapid', 'Grantelope', 2326, 'reyboyboy', 2264, 'd4,d5,Bf4,Nf6,e3,c5,c3,Nc6,Nd2,Bg4,f3,Bd7,Bd3,e6,Ne2,cxd4,exd4,Nh5,Be3,Qh4+,g3,Qd8,O-O,Bd6,f4,O-O,Kh1,Nf6,Ng1,Rc8,Ngf3,Na5,Ne5,Ne4,Nxe4,dxe4,Bxe4,f6,Qh5,f5,Bd3,Bxe5,fxe5,Nc4,Bg5,Qb6,b3,Bc6+,Kg1,Nxe5,Be2,Be4,Rac1,Nd3,Bxd3,Bxd3,Rfe1,Be4,Be3,Qa5,Qe2,b5,Bf4,Rc6,c4,bxc4,bxc4,Rfc8,c5,Ra6,Ra1,Qc3', 'Qxa6,Qxd4+,Be3', 'https://lichess.org/training/rG3tA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rG5OG', 'Rapid', 'ileri759', 1867, 'scorpion2222', 1871, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,h3,a6,O-O,O-O,Ne5,Be6,Nc3,Nc6,Nxc6,bxc6,f4,c5,dxc5,Bxc5+,Kh1,Qd7,f5,d4,fxe6,Qxe6,Re1,Qd6,Ne4,Nxe4,Rxe4,Rfe8,Rh4,g6,Bf4,Qe7,Qg4,Kg7,Rh6,Bd6,Bg5', 'Qe1+,Bf1,Qxa1', 'https://lichess.org/training/rG5OG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rg5qu', 'Blitz', 'igormaz', 1955, 'BayronE', 1887, 'd4,d6,Bf4,Nf6,h3,h6,e3,g5,Bh2,Bf5,Nf3,g4,hxg4,Bxg4,Be2,Bxf3,Bxf3,Nc6,c3,Bg7,Bf4,Qd7,Qc2,e6,Nd2,Nd5,Bxd5,exd5,Bg3,Ne7,Qb3,O-O-O,O-O-O,Nf5,Bf4,Ne7,Bg3,Nf5,Bh4,Nxh4,Rxh4,Qe7,Rdh1,Qe6,Nf3,a6,Qc2,Rdg8,g3,Qg6,Qxg6,fxg6,Nd2,h5,Kd1,Bf6,Rf4,Bg5,Rf7,Rf8,Rxf8+,Rxf8,Ke2,Rh8,Nf3,Bf6,Nh4,Bxh4,Rxh4,Kd7,Rf4,Ke6,Rh4,c6,g4,b6,f3,c5,Kf2,c4,Kg3,b5,f4,a5,Rh2,a4,a3,Rh7,gxh5,Rxh5', 'Rxh5,gxh5,Kh4,Kf5,Kxh5', 'https://lichess.org/training/Rg5qu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rg6AM', 'Blitz', 'damianmcca84', 1985, 'Skiroll', 1963, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Nd7,O-O,Be7,Re1,O-O,Bxc6,bxc6,Nxd4,Bb7,f4,c5,Nf5,g6,Nxe7+,Qxe7,Nc3,Nb6,Kh1,Rad8,f5,gxf5,Qh5,Kh8,Bg5,Qe6,Bf6+,Qxf6,exf6,Rg8,Qxf7,d4,Rg1,dxc3,Qxc7,cxb2,Rab1,Be4,Rxb2,Rd2,f7', 'Bxg2+,Rxg2,Rd1+,Rg1,Rdxg1#', 'https://lichess.org/training/rg6AM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RG6dz', 'Rapid', 'KSYY', 1748, 'rnunesmagalhaes', 1745, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,h3,Bxf3,Qxf3,Nf6,c3,Bc5,b4,Ba7,Rd1,O-O,Na3,Qd7,Nc4,Rfe8,d4,exd4,cxd4,Bxd4,Bb2,Bxb2,Rxd7,Bxa1,Rxc7,Rxe4,Nd6,Re1+,Kh2,Be5+,g3,Bxd6,Rxb7,c5,bxc5,Bxc5,Rc7,Rae8,Rxc5,Ne4,Rc7,f6,Qb3+,Kh8,Qf7,Rg8,Re7', 'Ng5,Qc4,Rxe7', 'https://lichess.org/training/RG6dz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgCJj', 'Rapid', 'jmorriss', 1960, 'stonerweed', 1616, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bb5,Nge7,O-O,d6,d3,O-O,Be3,Bg4,h3,Bh5,a3,Nd4,Bxd4,Bxd4,g4,Bxc3,bxc3,c6,Bc4,b5,Bb3,Bg6,Nh4,a5,a4,b4,cxb4,axb4,f4,Qb6+,Kh2,h6,f5,Bh7,f6,Ng6,fxg7,Kxg7,Nf5+,Kh8,Nxh6,Nf4,Nxf7+,Rxf7,Bxf7,Rf8,Bb3,Qe3,Rf3,Qd4,a5,Rf6,a6,Rh6,a7', 'Rxh3+,Rxh3,Qf2+,Kh1,Qg2#', 'https://lichess.org/training/RgCJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgcZz', 'Rapid', 'Aquilabianca', 2023, 'Haleguathor1', 1857, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,cxd5,cxd5,Bf4,e6,e3,Bd6,Bxd6,Qxd6,Bb5+,Nc6,Ne5,O-O,f4,a6,Be2,Ne4,Nxe4,Bxe4,O-O,f6,Nd3,e5,Nc5,Rf7,Nxe4,dxe4,Bc4,exf4,Rxf4,g5,Rxe4,f5,Re6,Qb4,Qe2,Kg7,a3,Qa5,Qh5,f4,Qh6+,Kh8,Rd6,Rff8,Rd5,Qd2,exf4,gxf4,Rg5,Qxd4+,Kh1,Rad8,Bd5,Ne7,Bf3,Qxb2,Rf1,Qf6,Qxf6+,Rxf6,Bxb7,Rd3,Re5,Ng6,Ra5,Rdd6,h3,Kg7,Rc1,Rb6,Rc7+,Kh6,Bf3,Nh4', 'Rh5+,Kg6,Rxh4', 'https://lichess.org/training/RgcZz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rGDXI', 'Blitz', 'FM Keipo', 2161, 'GM AtalikS', 2614, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d5,cxd5,Nxd5,e3,O-O,Be2,c5,O-O,Nc6,Bd2,cxd4,exd4,Nxd4,Nxd4,Bxd4,Nxd5,Qxd5,Bf3,Qd6,Bh6,Rd8,Qb3,Be6,Qxb7,Rab8,Qe4,Rxb2,Rad1,Qb6,Be3,Bxe3,Rxd8+,Qxd8,Qxe3,Rxa2,h3,a5,Rd1,Qc7,h4,h5,Bxh5,Ra4,Bxg6,Rxh4,g3,Rh8,Qg5,Kf8,Be4,a4,Rc1,Qb6,Qe5,Rh6,Rb1,Rh5', 'Qxh5,Qxb1+,Bxb1', 'https://lichess.org/training/rGDXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RGdY0', 'Blitz', 'NM reebook', 2180, 'Rubilnik', 2137, 'e4,d6,d4,Nf6,Nc3,e5,Bg5,exd4,Qxd4,Be7,Bc4,a6,O-O-O,c5,Qd2,b5,Bxf7+,Kxf7,Bxf6,Be6,Bxe7,Qxe7,Qxd6,Nd7,Qxe7+,Kxe7,Nd5+,Bxd5,exd5,c4,Nf3,Kd6,Ng5,Kc5,Rhe1,Rae8,Ne4+,Kb6,Nd6,Rxe1,Rxe1,Kc5,Nf7,Rf8,Re7,Nf6,d6,Nd5,d7,Nxe7,d8=Q,Rxd8,Nxd8,Nf5,g4,Nd4,f4,Ne2+,Kd2,Nxf4,Ke3,Nd5+,Ke4,Nb4,Ne6+,Kd6,Nxg7,Nxc2,Nf5+,Ke6', 'Nd4+,Nxd4,Kxd4', 'https://lichess.org/training/RGdY0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rGeHJ', 'Classical', 'Guk_Evgeniy', 2181, 'donaldmashiri', 1994, 'd4,Nf6,Nc3,d5,Bf4,c6,Nf3,e6,a3,Bd6,Bg3,Bxg3,hxg3,Nbd7,e3,a5,Bd3,b5,Qe2,Ba6,a4,b4,Bxa6,bxc3,b3,Qb6,Bd3,Rc8,O-O,h6,Rae1,O-O,e4,dxe4,Bxe4,Nxe4,Qxe4,Nf6,Qh4,c5,dxc5,Rxc5,Re5,Rxe5,Nxe5,Rd8,Nc4,Qc5,Qf4,Nd5,Qf3,Nf6,Qxc3,Ng4,Qxa5,Qd4,Qe1,Qc5,Qe2', 'Qh5,Qxg4,Qxg4', 'https://lichess.org/training/rGeHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgFdr', 'Rapid', 'Husam-Alhasan', 1947, 'HamzaNaser', 1736, 'd4,Nf6,c4,g6,Nc3,Bg7,e3,d6,f4,O-O,Nf3,c6,Bd3,Nbd7,Bd2,Nb6,O-O,Bg4,Rc1,d5,c5,Nbd7,Be2,b6,h3,Bxf3,Bxf3,bxc5,dxc5,Nxc5,Na4,Nxa4,Qxa4,Qb6,b3,Nd7,Rxc6,Nc5,Rxb6,Nxa4,Rb7,Nc5,Rc7,Nd3,Bxd5,e6,Bc4,Nb2,Bb4,Rfc8,Rxc8+,Rxc8,Rc1', 'Nd3,Bxd3,Rxc1+', 'https://lichess.org/training/RgFdr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rGFDW', 'Classical', 'Denizchess', 1877, 'MalMax', 1799, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Nxe4,Qe2,Nxc3,dxc3,Qf6,Bg5,Qg6', 'Nxe5,Nxe5,Qxe5+,Qe6,Bxe6', 'https://lichess.org/training/rGFDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rGFI7', 'Blitz', 'LM Assios', 2087, 'nelsonuribexxx', 2061, 'e4,e5,f4,d5,exd5,e4,d3,Nf6,Nc3,Bb4,Bd2,e3,Bxe3,O-O,Bd2,Re8+,Be2,Ng4,Nf3,Bc5,d4,Bb6,O-O,c5,h3', 'cxd4,Nxd4,Bxd4+', 'https://lichess.org/training/rGFI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rgGe7', 'Classical', 'staskamaev', 2028, 'MrRefrigerator', 2184, 'c4,f5,Nc3,Nf6,d4,g6,Bf4,Bg7,Nf3,d6,e3,O-O,Bg5,Nbd7,Be2,c6,O-O,e5,d5,c5,e4,h6,Bxf6,Qxf6,Bd3,a6,a3,Kh8,b4,b6,Qc2,Rf7,b5,a5,Nd2,Nf8,Rac1,Nh7,f3,h5,exf5,gxf5,Na4,Rb8,Rf2,Bh6,Re1,Rg7,Nf1,h4,Kh1,Nf8,h3,Bf4,Rfe2,Qg5,Nc3,Ng6,Ne3,Ne7,Ncd1,Bd7,a4,Rbg8,Nf1,Rg6,Nde3,R8g7,Rd1,Kg8,Rde1,Kf8,Nh2,Qg3,Neg4,fxg4,Nf1,gxf3,Nxg3,Rxg3,Rf2,Bxh3,gxf3,R3g5,Rfe2,Bf5,Be4,h3,Qd1,h2,Rf1,Bh3,Rxh2,Bxf1,Rh8+,Kf7,Qxf1,Be3,Kh2,Ng8,Rh4,Nf6,Qh3,Bf4+,Rxf4,Rg2+,Qxg2,Rxg2+,Kxg2,exf4,Kh3,Nxe4', 'fxe4,Kf6,Kg4,Ke5,Kf3,Kd4,Kxf4', 'https://lichess.org/training/rgGe7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rgGT0', 'Blitz', 'Unknown4u', 1882, 'Pawnstar21', 1889, 'e4,d5,exd5,Qxd5,Nf3,Qd8,d4,Bg4,Bd3,Nf6,O-O,e6,Re1,Be7,Nbd2,O-O,c3,Nbd7,Qc2,c6,Ne5,Bh5,h3,Kh8,g4,Nxe5,dxe5,Nxg4,hxg4,Bxg4,Nc4,Qd5,Ne3,Qxe5,Bd2,Bf3,Ng2,Qh5,Be4,Bg4,Nf4,Qh4,Kg2,f5,Rh1,Qg5,Nxe6,Qf6,Nxf8,Rxf8,Bd3,Qg6,Kf1,Bc5,b4,Bb6,Be3,Bc7,Be2,Bxe2+,Qxe2,f4,Bc5,f3,Qe7,Qg2+,Ke1,Qxh1+,Kd2,Qh6+,Kc2,Qg6+,Kb2,Re8,Qxc7,Re2+,Kb3,Qc2+,Kc4,Re4+,Bd4,Qe2+,Kc5', 'Qb5+,Kd6,Qd5#', 'https://lichess.org/training/rgGT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgI3q', 'Rapid', 'aggduhdn', 1972, 'evilcoyote', 2393, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,Nf6,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d5,exd5,Nxd5,O-O,O-O,Nb3,Bg4,Be2,Nf4,h3,Nxe2+,Qxe2,Re8,Qd3,Bxf3,Qxf3,Nxd4,Nxd4,Qxd4,Qxb7,Rab8,Qxc7,Rxb2,Rad1,Qa4,Rd8,h6,Rfd1,Kh7,Qxf7,Rbe2,Qf5+,Kh8,Rxe8+,Rxe8,Qd7', 'Re1+,Rxe1,Qxd7', 'https://lichess.org/training/RgI3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgIXL', 'Rapid', 'aria1300', 1770, 'natosil01', 1763, 'e4,c5,Nf3,a6,Bc4,e6,Nc3,Qc7,a3,Nc6,d3,h6,O-O,Bd6,h3,Nge7,Nh4,g5,Nf3,Ng6,g3,b6,Be3,Bb7,Ne2,b5,Ba2,f6,g4,Nf4,Nxf4,gxf4,Bd2,h5,Nh2,hxg4,hxg4,O-O-O,f3,Rdg8,Kg2,Rg7,Rh1,f5,exf5,exf5,Bc3,Nd4,Kf2,Bxf3', 'Nxf3,Rgh7,Rxh7', 'https://lichess.org/training/RgIXL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgK20', 'Classical', 'dmrgn155', 1794, 'BolatbekT', 1798, 'd4,d5,c4,dxc4,e3,e6,Bxc4,c6,Nc3,Bb4,Qc2,Nf6,Nf3,h6,O-O,Bd6,Bd3,Be7,Ne5,Nbd7,f4,c5,f5,exf5,Bxf5,a6,Ne4,Nxe4,Qxe4,Nf6,Qf4,Bxf5,Qxf5,cxd4,exd4,Qxd4+,Kh1,O-O,Bf4,Qb4,Rad1,Rad8,Nd7,Nxd7,Rxd7,Rxd7,Qxd7,Bf6,b3,Rd8,Qc7,Qb5,Re1,Qb4,Rf1,Qb5,Re1,Qd5,h3,Bh4,Rc1,Re8,Bd6,Re2,Rg1,Bf2,Rf1,Be3,Qc8+,Kh7,Qf5+,Qxf5,Rxf5,f6,Ra5,Rd2,Bb8,Kg6,Kh2,h5,Ra4,f5,Kg3,Kg5,Kf3,Bc5', 'Bf4+,Kf6,Bxd2', 'https://lichess.org/training/RgK20');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rGKBq', 'Blitz', 'young_guitarist4', 1640, 'bosvas', 1643, 'd4,e6,c4,g6,Nc3,Bg7,e4,Ne7,Bf4,d5,e5,dxc4,Bxc4,O-O,Qd2,a6,Bh6,b6,Nf3,Bb7,Bxg7,Kxg7,Be2,Nf5,O-O,Nd7,Ng5,Qe7,g4,Nh6,Nh3,f6,exf6+,Nxf6,g5,Ne4,gxh6+,Kh8,Nxe4,Bxe4,Qe3,Bd5,Qe5+,Qf6,Qxc7,b5,Nf4', 'Qg5+,Bg4,Qxg4+,Ng2,Qxg2#', 'https://lichess.org/training/rGKBq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgLTH', 'Rapid', 'henkverkuyl', 1622, 'wsuy', 1734, 'd4,Nf6,c4,e6,Nc3,d5,e3,Be7,Nf3,Nbd7,Bd3,O-O,O-O,dxc4,Bxc4,b6,a3,Bb7,b4,a6,Bb2,Ne4,Qc2,Ndf6,Nd2,Nxd2,Qxd2,Ne4,Qc2,Nxc3,Bxc3,c5,Bd3,cxd4,Bxd4,g6,Qb2,f6,Rad1,e5,Bxe5,fxe5', 'Bc4+,Kh8,Rxd8', 'https://lichess.org/training/RgLTH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgN3I', 'Classical', 'alex1976al', 1688, 'goshen2748', 1655, 'd4,d5,c4,c6,c5,b6,b4,Nf6,Nc3,g6,Bf4,Bg7,Bxb8,Rxb8,e3,O-O,Nf3,bxc5,bxc5,Qa5,Qd2,Ba6,Bd3,e5,Nxe5,Bxd3,Qxd3,Qc7,O-O,Rfe8,Nf3,Ne4,Nxe4', 'dxe4,Qd1,exf3', 'https://lichess.org/training/RgN3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RGNA3', 'Rapid', 'Sid_Check', 1814, 'gregoooo', 1890, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,dxe5,dxe5,Bg5,Be7,Qe2,O-O,O-O-O,Qe8,h4,h6,Be3,c6,Nd2,Nb6,g4,Nxg4,f3,Nxe3,Qxe3,Be6,Be2,Nd7,Rdg1,Bc5', 'Qxh6,Bxg1,Rxg1', 'https://lichess.org/training/RGNA3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rgni0', 'Rapid', 'erfantam', 1685, 'holala', 1723, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Nc3,d6,d3,Be7,Be3,O-O,Qd2,Nd4,Nd5,Nxf3+,gxf3,Nh5,Bxh6,gxh6', 'Qxh6,Bg5,Qxh5', 'https://lichess.org/training/Rgni0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rgnwj', 'Classical', 'Katsiamis', 1772, 'ithac4', 1729, 'e4,e5,c4,c6,d3,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qa5,Bd2,Nf6,f4,exf4,Nf3,Bg4,Be2,Bd6,O-O,O-O,Ne4,Qb6+,Kh1,Nxe4,dxe4,Re8,Bc3,Rxe4,h3,Re6,hxg4', 'Rh6+,Nh2,f3', 'https://lichess.org/training/Rgnwj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgO23', 'Blitz', 'eastend', 1511, 'igornvidal', 1503, 'd4,f5,c4,Nf6,Nc3,e6,g3,Be7,Bg2,O-O,e4,e5,Be3,d6,Qc2,Ng4,O-O-O,Nxe3,fxe3,Bg5,Qe2,c6,dxe5,Qa5,Nf3,Bh6,exd6,fxe4,Nd4,c5,Nb3,Qb4,Bxe4,Re8,Nd5,Qa4,Nc7,Rxe4,Nxa8,Bxe3+,Kb1,Rxc4,Qxe3,Bf5+,Ka1', 'Qxa2+,Kxa2,Ra4#', 'https://lichess.org/training/RgO23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rGoiv', 'Classical', 'gabrahmad', 2109, 'OPTIMIST-13', 2224, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,g4,Be7,h4,Nc6,g5,Nd7,Qh5,Nxd4,Bxd4,e5,Be3,b5,f4,exf4,Bxf4,Ne5,O-O-O', 'Bg4,Qxg4,Nxg4', 'https://lichess.org/training/rGoiv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgokC', 'Rapid', 'Enloscuro', 2400, 'raf1959', 2279, 'd4,d5,c4,c6,Nf3,Nf6,Qc2,g6,g3,Bf5,Qb3,dxc4,Qxb7,Nbd7,Qxc6,Rc8,Qa6,Bg7,Bg2,O-O,O-O,Qb6,Qxb6,axb6,Nc3,e6,h3,Nd5,Nb5,Bc2,Bd2,Ba4,Nd6,Rc6,Ne4,Bb5,Rfc1,Ba6,e3,b5,b3,Rfc8,bxc4,bxc4,Nc3,R6c7,Rab1,N7b6,Bf1,Bf8,e4,Nxc3,Bxc3,Na4,Ba5,Rc6,Ne5,Rd6,Bxc4,Ra8,Bb4,Rxd4,Bxf8,Bxc4,Rxc4,Rxc4,Nxc4,Kxf8,a3,Ke7,f3,f6,Rb7+,Kf8,Rxh7,Nc3,Rd7,Ra4,Nd6,Rxa3,Rf7+,Kg8,Rxf6,Kg7,Rxe6,Ne2+,Kf2,Ra2,Ke3,Nxg3,Kf4,Nh5+,Ke3,Ra3+,Kf2,Ra2+,Ke3,Ra3+,Kd4,Rxf3,Ne8+,Kf7,Re5,Rxh3,Nd6+,Kg7,Ne8+,Kh6,Kc5,Nf4,Nf6,Re3', 'Ng4+,Kg7,Nxe3', 'https://lichess.org/training/RgokC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rGP06', 'Blitz', 'Gowthaman', 2066, 'Hector12340', 1671, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,O-O,O-O,Bb3,d6,h3,Na5,Bg5,c6,Nc3,Re8,d4,Nxb3,axb3,exd4,Nxd4,h6,Bxf6,Qxf6,Nf3,Be6,Qd3,Qg6,Nd2,f5,exf5,Bxf5,Qc4+,Kh8,Qh4,Bxc2,Rac1,Bf5,Nf3,Bd7,Na4,Bb6,Rcd1,Bc7,Qg3,Qxg3,fxg3,d5,g4,Re2,Nd4,Re4,Nc5,Re7,Nxb7,Bb6,Kh1,Bxd4,Rxd4,Rae8,Nd6,Rb8,Nf5,Re2,Rd3,Bxf5,Rxf5,Rbe8,Rdf3,Re1+,Kh2,R1e2,Rf2,Rxf2,Rxf2,Re3,Rc2,Rxb3,Rxc6,Rxb2,Rd6,a5,Rxd5,a4,Ra5,Ra2,g5,a3', 'g6,Rd2,Ra8+,Rd8,Rxd8#', 'https://lichess.org/training/rGP06');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rgQUM', 'Classical', 'sonoioultimo', 1835, 'Cacianofisico', 1691, 'e4,h5,d4,e5,dxe5,Bc5,f4,b6,Nc3,Bb7,Bd2,Nc6,Nf3,Nd4,Nxd4,Bxd4,Bd3,Qh4+,g3,Qh3,Qe2,Bxc3,Bxc3,O-O-O,O-O-O,Qg4,Qf1,f5,Ba6,Bxa6,Qxa6+,Kb8,Rhe1,fxe4,Rxe4,Ne7,Red4,Rh6,Qc4,Nc6,R4d2,g5,Qf7,gxf4,gxf4,d6,exd6,Rhxd6,Be5,Rxd2', 'Qxc7+,Ka8,Qxc6#', 'https://lichess.org/training/rgQUM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rGr51', 'Blitz', 'Caballoloco09', 1922, 'Skalman1', 1885, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bc4,e6,Be3,a6,Bb3,Qc7,Qd2,Na5,O-O-O,Nc4,Bxc4,Qxc4,f4,b5,e5,dxe5,Nc6,Bb7', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/rGr51');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rgs3j', 'Rapid', 'Deborohlaroccia', 1750, 'daoharu', 1717, 'd4,Nf6,Nf3,e6,c4,Be7,Nc3,d5,e3,O-O,cxd5,exd5,Be2,Re8,O-O,Nbd7,Ng5,a6,e4,dxe4,Ngxe4,Nxe4,Nxe4,Nf6,Ng3,c6,Bc4,b5,Bb3,Bg4,Qd2,Bd6,Qg5,Be6,Bxe6,Rxe6,Nf5,Bf8', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/Rgs3j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RGt0q', 'Rapid', 'stefanvb', 1954, 'Bersama', 2023, 'e4,e5,Nf3,Nf6,Nc3,Bc5,d3,Nc6,Be3,Be7,Be2,d6,Qd2,Ng4,h3,Nxe3,fxe3,Be6,d4,exd4,exd4,Bd7,O-O,O-O,a3,a6,Nd5,Be6,Nxe7+,Nxe7,d5,Bd7,Bd3,Ng6,Rae1,Ne5,Nxe5,dxe5,Rf3,f6,Rg3,Qe7,Bc4,Qd6,Qh6,Rf7,h4', 'Qc5+,Qe3,Qxc4', 'https://lichess.org/training/RGt0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rgvlT', 'Rapid', 'Abo_omar1', 1735, 'Shackleton1015', 1744, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,a3,d6,Nc3,Nf6,Na4,Bb6,Nxb6,axb6,h3,O-O,Be3,d5,exd5,Nxd5,Bd2,Re8,O-O,e4,dxe4,Rxe4,Ba2,Nd4,Re1,Nxf3+,Qxf3,Rxe1+,Rxe1,Nf6,Bxh6,gxh6,Rd1,Qe7,Qg3+,Kh7,Qd3+,Qe4,Qg3,Be6,Bb1,Qe2,c3+,Kh8,Rf1,Rg8,Qf4,Rg6,Bxg6,fxg6,Qxh6+,Nh7,Qxg6,Bc4,Rb1', 'Bd3,Qf7,Bxb1', 'https://lichess.org/training/rgvlT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rgWnI', 'Blitz', 'NM ultrahunter', 2418, 'Rizwan1403', 2422, 'd4,d5,Nf3,e6,e3,c5,Bd3,Nc6,b3,Nf6,Bb2,Be7,O-O,O-O,c4,a6,Nc3,cxd4,exd4,dxc4,Bxc4,b5,Bd3,Bb7,Qe2,Nxd4,Nxd4,Qxd4,Rfd1,Qh4,h3,Rad8,Rac1,Qg5,Qf1,Nh5,Ne4,Qg6', 'Nf6+,Qxf6,Bxf6', 'https://lichess.org/training/rgWnI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rgwq1', 'Rapid', 'Ygalbel', 1910, 'nindza75', 1976, 'd4,f5,c4,Nf6,Nf3,e6,Bf4,d5,e3,c6,Be2,Bd6,Bg5,Be7,Nc3,O-O,O-O,h6,Bh4,Nbd7,a3,b6,Qc2,Bb7,cxd5,cxd5,Nd2,Rc8,f4,Nh7,Bxe7,Qxe7,Nf3,g5,Ne5,Nxe5,dxe5,g4,Rac1,h5,Qd1,h4,Nb5,Ba6,Nd6', 'Rxc1,Qxc1,Bxe2', 'https://lichess.org/training/rgwq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rGx5Q', 'Blitz', 'uomosconosciuto', 1573, 'narizblanca', 1528, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,O-O,Qxe5,d4,Qe7,e5,Be6,Nc3,O-O-O,Ne4,f6,f4,Bd5,Nc5,h5,b3,h4,c4,Bf7,Re1,Bh5,Qd2,Qe8,Ba3,b6,Nxa6,Bxa3,b4,Kb7,Qc3,Kxa6,Qxa3+,Kb7,Qc3,Ne7,a4,fxe5,fxe5,Rf8,a5,Ra8,a6+,Rxa6,Rxa6,Kxa6,Ra1+,Kb7,Qa3,Qa8,Qb2,Qd8,Qd2,Nf5,d5,cxd5,cxd5,Re8,e6,Nd6,Qc3,Qf6', 'Qc6+,Kc8,Ra8#', 'https://lichess.org/training/rGx5Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgXbB', 'Rapid', 'MUKHERJEE667', 2040, 'dolagendy777', 2072, 'e4,e5,d4,exd4,Nf3,d5,exd5,Qxd5,Qxd4,Qxd4,Nxd4,Bc5,Nb3,Bb6,Nc3,Bf5,Bd3,Bxd3,cxd3,Nf6,Be3,O-O,O-O,Nbd7,Bxb6,Nxb6,Rfe1,Nbd5,a3,Rad8,Rad1,Rfe8,Rxe8+,Rxe8,Nxd5,Nxd5,Nc5,b6,Ne4,f5,Nc3,Rd8,g3,g6,Kg2,c5,Nxd5,Rxd5,Kf3,c4,Ke3,Kf7,d4,b5,Rc1,Kf6,h4,Ke6,Rc3,Kd6,Rc1,Kc6,f4,a5,h5,b4,axb4,axb4,Rxc4+,Kb5,Rc7,gxh5,Rxh7,Kc4,Rxh5,Rxd4,Rxf5,Rd3+,Kf2,Rd2+,Kf3,Rxb2,g4,Rd2,g5,b3,Rf8,b2,Rb8', 'Rd3+,Ke2,Rb3', 'https://lichess.org/training/RgXbB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RGy99', 'Blitz', 'IM Lefleau', 2122, 'Hanan97', 2054, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Be2,Nge7,O-O,Ng6,Kh1,Be7,Be3,O-O,f4,f5,exf5,Nxd4,fxg6,Nxe2,gxh7+,Kxh7,Qxe2,Rf5,Ne4,Bh4,Qd3,Kg8,g4,Rd5,Qb3,Be7,c4,Rd6,Nxd6,Bxd6,Rad1,Bc7,f5,b5,fxe6,Bb7+,Kg1,Qh4,Rf4', 'Bxf4,Bxf4,Qxg4+', 'https://lichess.org/training/RGy99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rGytP', 'Rapid', 'Telman01', 1706, 'salahfnz', 1691, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,d3,h6,Ne2,Bg4,h3,Bxf3,gxf3,Qh4,Rh2,Nge7,c3,Ng6,d4,exd4,cxd4,Bb6,Be3,O-O-O,Qd2,Ba5,Nc3,a6,O-O-O,Qe7,Qd3,Nb4,Qe2,Rhe8,a3,Nc6,Bxa6,bxa6', 'Qxa6+,Kd7,d5', 'https://lichess.org/training/rGytP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RgzKK', 'Blitz', 'elaprendizdefabio', 2289, 'Rigul-m89', 2179, 'd4,c6,e4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bc4,e6,O-O,Ngf6,Qe2,Be7,Rd1,h6,Ne5,Bh7,Nxf7,Kxf7', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/RgzKK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RGZUA', 'Blitz', 'OrangeAed', 1567, 'GottDesFussgeruchs', 1642, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,c5,cxd5,exd5,e4,Nxe4,Nxe4,dxe4,dxc5,Bxc5,Qxd8+,Kxd8,O-O-O+,Ke7,Bc4,f5', 'Bg5+,Kf8,Rd8#', 'https://lichess.org/training/RGZUA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RH1VT', 'Blitz', 'binoychacko23', 2156, 'divikgoel', 2213, 'd4,Nf6,Nf3,e6,g3,d5,Bg2,Be7,Ne5,O-O,O-O,Nbd7,f4,Nxe5,fxe5,Nd7,c3,f5,exf6,Nxf6,Nd2,c5,e3,cxd4,exd4,Bd7,Nf3,Bc6,Bf4,Rc8,Ne5,Qb6,Qb3,Ne4,Bxe4,dxe4,Qxe6+,Kh8,Nf7+,Rxf7,Qxf7,Bf6,Be5,Bxe5', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/RH1VT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rh2Tp', 'Rapid', 'rohliksmaslem', 1809, 'bulej', 2024, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Nc3,Nc6,Be3,Nf6,h3,Bh5,g4,Bg6,Bd3,e6,Bxg6,hxg6,Qd2,Nxg4,Bg5,Be7,Bxe7,Qxe7,Qf4,Nf6,O-O-O,O-O-O,Ne5,Nxe5,Qxe5,Qc7,Qxc7+,Kxc7,Rde1,a6,f3,Rh4,Re3,Rdh8,Ne2,Rxh3,Rxh3,Rxh3,Nf4,Rh4,Rc3+,Kd7,Nd3,b6,Ne5+,Kd8,Nxf7+,Ke7,Ne5,Rxd4', 'Nc6+,Kd7,Nxd4', 'https://lichess.org/training/Rh2Tp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rh7JM', 'Rapid', 'Mar001', 1828, 'antonios94', 1794, 'e4,c5,g3,d6,Bg2,Nf6,Nc3,e5,d3,Be7,f4,Nc6,fxe5,dxe5,Nf3,O-O,h3,Nh5,Nxe5,Nxg3,Nxc6,bxc6,Rg1,Bh4,Qf3,Nxe4+,Ke2,Ng3+,Kd1,Bb7,Bf4,Qd4,Be3,Qf6,Qxf6,Bxf6,Bxc5,Rfe8,Ne4,Nxe4,Bxe4,Rad8,Bxa7', 'Rxe4', 'https://lichess.org/training/rh7JM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rh834', 'Rapid', 'labiblia7', 1724, 'DeezKnights', 1811, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,Bg4,h3,Bh5,Bb3,Nf6,g4,Bg6,d3,h6,g5,Nh7,h4,Bh5,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/rh834');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rH92B', 'Classical', 'NeptuneHyper', 1871, 'BoijayantaBishwas', 1869, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Bg4,Qe2+,Be7,Bxf6,gxf6,Nc3,Nc6,O-O-O,Qd7,Qb5,O-O-O,Be2,Bb4,Qa4,Rde8,Bb5,Re6', 'Bxc6,Qxc6,Qxb4', 'https://lichess.org/training/rH92B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rhagq', 'Blitz', 'domotorp', 1909, 'acrobaticatur', 1933, 'd4,a6,e4,b5,Nf3,Bb7,d5,e6,c4,bxc4,Bxc4,Nf6,Bg5,c6,e5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Qa5+,Bd2,Qc5,dxe6,Qxc4,exf6,dxe6,Nc3,Nd7,Qf3,Ne5,Qe3,Nd3+,Kd1,Nxb2+,Kc2,Na4,Rab1,Bc8,Rb3,Bc5,Qg3,Bd7', 'Rb8+,Bc8,Rxa8', 'https://lichess.org/training/Rhagq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RhAoU', 'Rapid', 'maaryarmah', 1743, 'ideatronz', 1940, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,f5,d3,Nf6,Bg5,Be7,O-O,O-O,Qd2,Nh5,Bxc6,bxc6,Bxe7,Qxe7,d4,fxe4,Nxe4,exd4,Rfe1,Rxf3,Ng5,Re3,fxe3,Qxg5,Qxd4,Be6,Qa4,Bd5,e4,Nf4,g3,Nh3+,Kg2,Be6,Qxc6,Qd2+,Kh1,Nf2+,Kg1,Ng4', 'Qxa8+,Kf7,Rf1+,Ke7,Qf8+', 'https://lichess.org/training/RhAoU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHbjw', 'Rapid', 'Willy_ana', 2020, 'Palala_84', 1948, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Be2,O-O,O-O,Ne5,Qd2,d6,Bh6,a6,Bxg7,Kxg7,h3,Qb6,b3,Qb4,Rad1,Bd7,f4,Nc6,Nxc6,Bxc6,e5,dxe5,fxe5,Qc5+,Kh1,Qxe5,Bc4,Qg3,Kg1,b5,Bd3,e5,Rde1,e4,Nxe4,Nxe4,Bxe4,Rad8,Bd3,Rd5', 'Qc3+,Kg8,Qxc6', 'https://lichess.org/training/rHbjw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RhcLb', 'Blitz', 'uwebernicke', 1902, 'davyfavy', 1856, 'e4,c5,f4,g6,Nf3,Bg7,d3,e6,c3,d5,e5,Ne7,Be2,O-O,O-O,b6,g4,Bb7,Nbd2,d4,c4,f5,g5,a6,h4,b5,b3,bxc4,bxc4,Nbc6,Nh2,Nb4,a3,Nbc6,h5,Qc7,Bf3,Na5,Rb1,Rab8,Bxb7,Rxb7,h6,Bh8,Rxb7,Nxb7,Qa4,Qc6,Qxc6,Nxc6,Nb1,Nba5,a4,Rb8,Ba3,Nb4,Rd1,Nxd3,Rxd3,Rxb1+,Kg2,Nxc4,Bxc5,Rb2+,Kh3,Nxe5,Rxd4,Rxh2+,Kg3,Nc6,Rd6,Rc2,Rxc6,Bd4', 'Rc8+,Kf7,Rf8#', 'https://lichess.org/training/RhcLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHcuS', 'Blitz', 'FM ronaldbrizuela', 2664, 'FM SanchezKelvin', 2535, 'c4,c5,Nc3,Nc6,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc2,Bxc3+,bxc3,Nf6,f3,Qa5,Bd2,d6,e4,b6,Be2,Ba6,O-O,Ne5,Ne3,O-O,Nd5,Nxd5,cxd5,Bxe2,Qxe2,Rac8,Rfc1,Nc4,Bh6,Rfe8,h4,Qc5+,Kh2,e6,dxe6,Rxe6,Qd3,f6,Bf4,Kf7,Rd1,Nb2,Qa6,Nxd1,Rxd1,Rc7,Rd3,Qc4,Qxc4,Rxc4,Bxd6,Ke8,Kg3,Ra4,Rd2,Rc4,Rd3,a5,Kf2,b5,Ke3,b4,cxb4,axb4,Rd2,Rc3+,Kf4,b3,axb3,Rxb3,Bc5,Rb5,Be3,g5+,hxg5,fxg5+,Kg3,h5,Rd1,Kf7,Rc1,Rb7,Rc5,g4,Rxh5,gxf3', 'Rh7+,Ke8,Rxb7', 'https://lichess.org/training/rHcuS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rhEbU', 'Blitz', 'Dimons', 1976, 'Alexeypetrov', 1980, 'e4,c5,Nc3,d6,f4,Nc6,Bb5,a6,Bxc6+,bxc6,d3,g6,Nf3,Bg7,O-O,e6,Qe1,Ne7,Be3,O-O,Kh1,Qa5,Rb1,Re8,Bd2,Qc7,Qh4,d5,g4,Bd7,f5,exf5,gxf5,gxf5,Ng5,h6,Nxf7,Kxf7,Bxh6,Rh8,Qh5+,Kf8', 'Bxg7+,Kxg7,Rg1+', 'https://lichess.org/training/rhEbU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rhEKs', 'Rapid', 'herlin5000', 1782, 'Edujanduis001', 1779, 'd4,d5,c4,e6,Nc3,c5,cxd5,cxd4,Qxd4,Nf6,Bg5,Be7,e4,exd5,Bb5+,Bd7,Bxd7+,Qxd7,e5,Nc6,Qd2,Nxe5,Bxf6,Bxf6,Qxd5,Qxd5,Nxd5,O-O-O,Nxf6,gxf6,Nf3,Nxf3+,gxf3,Rhe8+,Kf1,Rd3,Rc1+,Kd7,Rc3', 'Rd1+,Kg2,Rg8+,Kh3,Rxh1', 'https://lichess.org/training/rhEKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rhEpa', 'Rapid', 'Iliancherakchiev', 1946, 'Biff71', 1607, 'Nf3,e6,d4,b6,c4,Bb7,g3,Bxf3,exf3,Ne7,Bg2,Ng6,f4,Nc6,O-O,Rb8,Nc3,Bb4,f5,exf5,Re1+,Nce7,Qa4,Bxc3,bxc3,O-O,Qxa7,Nc6,Bxc6,dxc6,Bf4,Rc8,Qa4,Ne7,Bg5,f6,Bf4,Ng6,Qxc6,Nxf4,gxf4,h6,Qe6+,Kh8,Qxf5,Re8,Re3,Rxe3,fxe3,Qe8,Kf2,Ra8,Qb5,Qe4,Qd5,Qc2+,Kf3,Rxa2,Rxa2,Qxa2,Qd8+,Kh7,Qxc7,Qxh2,Qxb6,Qh3+,Ke4,Qg2+,Kd3,Qf1+,Kc2,Qe2+,Kb3,Qxe3,f5,h5,Qe6,Qg3,d5,Qb8+,Kc2,Qh2+,Kd3,Qg3+,Kd4,Qf2+,Qe3,Qxf5,Qe4,Qxe4+,Kxe4,Kg8,c5,Kf7,c6,Ke7,c4,Kd6,c5+,Kc7,Kf5,g6+,Ke6,h4,d6+,Kxc6,Ke7,h3,d7,h2,d8=Q,h1=Q,Qd6+,Kb5', 'Qb6+,Kc4,c6', 'https://lichess.org/training/rhEpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rhgts', 'Rapid', 'goemannbolsehle', 1838, 'lustacapulco', 1714, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,Re1,O-O,c3,Nfd7,d4,a6,Nbd2,b5,Bb3,c5,dxc5,Nxc5,Bc2,Qb6,b4,Nb7,c4,Bg4,h3,Bh5,Qe2,Nd7,a3,Nf6,Qd3,Bg6,Nh4,Nh5,Nxg6,fxg6,cxb5,Qxf2+,Kh2,Bg5,Rf1', 'Bf4+,Kh1,Ng3+,Qxg3,Qxg3', 'https://lichess.org/training/rhgts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rhGUi', 'Rapid', 'jcmontanez', 1812, 'Nafter87', 1853, 'd4,Nf6,c4,c5,d5,b5,b3,d6,Bb2,g6,Nf3,bxc4,bxc4,Bg7,Nbd2,O-O,e4,Nbd7,Be2,Rb8,Rb1,Qa5,a3,Nxe4,Bxg7,Nxd2,Nxd2,Kxg7,O-O,Ba6,Qc2,Ne5,Qa2,Qc3,Rfc1,Rxb1,Rxb1,Qd4,a4,Nd3,Bxd3,Qxd3,a5,Qc3,Qb2,Qxb2,Rxb2,e6,f3,exd5,cxd5,c4,Rc2,Rc8,Kf2,Kf6,f4,Rc5,Kf3,Rxd5,Nxc4,Bxc4,Rxc4,Rxa5,Rd4,Ke6,h4,Ra3+,Kf2,Ra2+,Kf3,a5,g3,Ra3+,Kf2,d5,Kg2,Kd6,Kf2,Kc5,Rd2,d4,Kg2,Kc4,Kf2,a4,g4,Rd3,Ra2,a3,Ke2,Kb3', 'Rxa3+,Kxa3,Kxd3', 'https://lichess.org/training/rhGUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHhkp', 'Blitz', 'AhmadJauhar04', 1652, 'Dodenstein', 1658, 'Nf3,d5,d4,Nc6,c4,e6,Nc3,Nf6,e3,dxc4,Bxc4,a6,e4,Bb4,Bg5,h6,e5,hxg5,exf6,Qxf6,O-O,Bd6,Ne4,Bxh2+,Nxh2,Qf4,Ng3,Qh4,Nf3,Qh6,Qd2,Bd7,Qxg5,Qh7,Rfe1,Ne7,d5,O-O-O,Qxe7,exd5,Be2,Bg4,Ng5', 'Qh2+,Kf1,Qh1+,Nxh1,Rxh1#', 'https://lichess.org/training/rHhkp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RhhOy', 'Blitz', 'synapz', 1550, 'umesh1', 1551, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Bc5,Nxc5,Qa5+,Nc3,Qxc5,Be3,Qe7,Bc4,Nf6,O-O,O-O,a3,h6,b4,d6,Nd5,Nxd5,Bxd5,Nd8,c4,Be6,Rc1,Kh8,Qd2,f5,Bxh6,Bxd5,Bg5,Qf7,exd5,Qg6,Qe3,f4,Qh3+,Kg8,Be7,Rf7,Bxd6,Rc8,Bc5,b6,Qxc8,bxc5,Qxd8+,Rf8,Qa5,f3,g3,Qh5,Kh1,Qh3,Rg1,Kh7,Qxa7,Rh8,Qf7,Kh6,bxc5', 'Qxh2+,Kxh2,Kg5+,Qh5+,Rxh5#', 'https://lichess.org/training/RhhOy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rhHs9', 'Blitz', 'duboka', 2301, 'GM S_Guliev', 2504, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d5,h3,O-O,Be2,c5,c3,Nc6,Nbd2,Qb6,Qb3,Qxb3,axb3,cxd4,exd4,a6,O-O,Bf5,b4,Ne4,Nb3,Rfe8,Nc5,Nxc5,bxc5,e5,Be3,exd4,cxd4,Nxd4,Nxd4,Bxd4,Bxd4,Rxe2,b4,Rae8,b5,axb5,Ra7,Rd2,Bf6,Rc2,Rxb7,Rxc5,Ra1,Rc6,Bd4,Rc4,Bf6,b4,Raa7,Be6,Rb6,d4,Rab7,b3,Rb8,Rcc8,Rxc8,Rxc8,Bxd4,Kf8,Bf6,Ke8,Rb7,Bd5,Rb5,Rc1+,Kh2,Bc4,Rb7,h5,Re7+,Kd8', 'Re1+,Kd7,Rxc1', 'https://lichess.org/training/rhHs9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RhHSf', 'Rapid', 'RomasJb', 1839, 'tulalit08', 1996, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,d6,Be3,e5,Nxc6,bxc6,a4,Be7,a5,c5,O-O,O-O,f3,Bb7,Bc4,Kh8,Nd5,Nxd5,Bxd5,Bxd5,Qxd5,Rb8,Rfb1,Rb5,Bd2,Qc7,c4,Rb3,Bc3,Bg5,Qd3,Rfb8,g3,Qd7,Qf1,Be3+,Kg2,Bd4,Qe1,Bxc3,bxc3,Rb2+,Kg1', 'Qh3,Rxb2,Rxb2,Qf2,Rxf2', 'https://lichess.org/training/RhHSf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHI4e', 'Rapid', 'saghi3005', 2103, 'LOKITO77', 2205, 'd4,f5,c4,Nf6,g3,e6,Bg2,Bb4+,Bd2,Be7,Nc3,O-O,Nh3,c5,e3,Nc6,d5,Nb4,Qb1,exd5,cxd5,d6,a3,Na6,b4,Ne4,Nxe4,fxe4,Qxe4,Bf6,Ra2,cxb4,axb4,Be5,Qc4,Bf5,O-O,Rc8,Qb5,Qe7,e4,Bg4,Nf4,g5,Ne6,Bxe6,dxe6,g4,Be3,Qxe6,Qxb7,Qxa2,Bh6,Nxb4,Qxb4,Rf7,f4,gxf3,Bxf3,a5,Qb5,a4,Bg4,Rxf1+,Qxf1,Rb8,Be2,Rb1,Bc4+,Kh8', 'Bxa2,Bd4+,Kg2,Rxf1,Kxf1', 'https://lichess.org/training/rHI4e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHIif', 'Blitz', 'jtcdfg', 1840, 'Ratzeputz', 1822, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,Nf3,g6,Bf4,Bg7,e6,Bxe6,d5,Bg4,h3,Bxf3,Qxf3,O-O,Nc3,Na6,a3,c6,dxc6,bxc6,Qxc6,Rc8,Qb5,Nc5,Be2,e5,Be3,Ne6,Bxb6,axb6,Nd5,Nd4,Qa4,Nxe2,Kxe2,f5,Qb5,e4,Rad1,Kh8,Nxb6,Rb8,c5,Qg5,Rxd6,Qxg2,Rhd1,Qf3+,Ke1,Rbe8,Qe2,Qh1+,Kd2,Qxh3,Nd7,Bxb2,Nxf8', 'Qc3#', 'https://lichess.org/training/rHIif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RHiws', 'Rapid', 'Massardo', 1909, 'adzag', 1912, 'e4,Nc6,Nf3,e5,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Bxc6,bxc6,Nxe5,Be7,d4,O-O,b3,Nf5,c3,d5,Nxc6,Qd6,Nxe7+,Nxe7,Qf3,c6,Bf4,Qf6,Nd2,Ng6,Be5,Qxf3,Nxf3,Bg4,Re3,Rfe8,Rae1,c5,Nd2,Re6,dxc5,Rae8,Bd4,Rxe3,Rxe3,Rxe3,fxe3,Bd7,g3,Ne7,Nf3,Nf5,Kf2,Bc6,Ne5,Bb5,c6,f6,c7,Ne7,Nd7,Bxd7,Bxa7,Kf7,a4,Nc8,Bc5,Ke8,a5,Bb5,e4,dxe4,Ke3,f5,c4,Ba6,Kf4,g6,g4,fxg4,Kxg4,Kd7,Kf4,Kxc7,Kxe4,Kc6,Be3,Nd6+,Ke5,Nf5,Bf2,Kd7,h4,Ke7,h5,Nd6', 'Bc5,Kd7,Bxd6', 'https://lichess.org/training/RHiws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RHJo7', 'Rapid', 'SMJT', 2093, 'Jackoscar', 2064, 'e4,e5,Nc3,Nf6,Bc4,Nc6,f4,exf4,Nf3,d6,d3,Bg4,h3,Bh5,Bxf4,Nd4,g4,Nxf3+,Qxf3,Bg6,O-O,Be7,Rae1,h5,g5,Nd7,h4,Ne5', 'Bxe5,dxe5,Bxf7+,Bxf7,Qxf7+', 'https://lichess.org/training/RHJo7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rhLGU', 'Blitz', 'IM imdejong', 2542, 'kukumber78', 2530, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,d3,b5,Bb3,d6,a3,Na5,Ba2,c5,b4,Nc6,c3,Be6,Bxe6,fxe6,Qb3,Qd7,Nbd2,O-O,Bb2,d5,Rfe1,c4,Qc2,Bd6,d4,exd4,e5,d3,Qd1,Be7,exf6,Bxf6,Nd4,e5,Nxc6,Qxc6,Qg4,Rae8,f3,g6,h4,Bg7,h5,Rf4,Qh3,g5,g3,Rf7,Qg4,h6,Kg2,Ref8,Re3,e4,Rf1,d4,cxd4,c3,Bxc3,Qxc3,Nxe4,Qxd4,Qe6,Kh8,Nc5,d2,Rd3,Qb2,Rf2,Rxf3,Rdxf3,d1=Q', 'Rxf8+,Bxf8,Rxb2', 'https://lichess.org/training/rhLGU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RhLln', 'Rapid', 'oto2001', 1816, 'mirkoj', 1995, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Nf6,d3,Bg4,Bg5,Be7,O-O,O-O,Nd5,Nd4,Ba4,Bxf3,gxf3,c6,Nxe7+,Qxe7,c3,Ne6,Be3,Nh5,Kh1,Nhf4,Rg1,Kh8,Rg4,h5,Rg3,Rg8,d4,Qh4,Bb3,Qf6,d5,cxd5,Bxd5,Nxd5,Qxd5,b6,Rag1,h4,Rg4,Qxf3+,R1g2,g5,Qxd6,h3,Qxe5+,f6,Qxe6,hxg2+,Rxg2,Rae8,Qf7,Rd8,Bd4,Rgf8', 'Bxf6+,Qxf6,Qh5+,Kg7,Rxg5+,Qxg5,Qxg5+', 'https://lichess.org/training/RhLln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rhLwS', 'Rapid', 'ddejan986', 1727, 'joshua_W', 1709, 'e4,c5,Bc4,d6,a3,Nf6,d3,a6,Nf3,e6,Nc3,Be7,Ba2,O-O,O-O,b5,b4,Bb7,bxc5,dxc5,Ne2,Qc7,Be3,Nbd7,c3,Rad8,a4,Bd6,axb5,axb5,Qb3,Ne5,Nxe5,Bxe5,h3,Rxd3,Qxb5,Rfd8,Bxc5,R8d7,Bd4,Bxd4,Qxd3', 'Bxf2+,Rxf2,Rxd3', 'https://lichess.org/training/rhLwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHM6m', 'Rapid', 'Igor-Sharutin', 1743, 'TomazP', 1734, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,g6,Nf3,Bg7,Be3,Nf6,Bc4,O-O,O-O,c6,Ne2,Bg4,Ng3,b5,Bb3,a5,a4,Na6,axb5,cxb5,c3,a4,Bc2,Nc7,h3,Be6,Ng5,Bc4,Re1,h6,N5e4,Ncd5,Nxf6+,exf6,Bd2,Qd6,b3,axb3,Bxb3', 'Rxa1,Qxa1,Bxb3', 'https://lichess.org/training/rHM6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHmuZ', 'Bullet', 'Kunagisa', 1776, 'JMMel', 1798, 'e4,e6,d4,d5,Nc3,Nf6,e5,Ne4,Nxe4,dxe4,c3,c5,Be3,Qb6,Qc2,Nc6,dxc5,Bxc5,Bxc5,Qxc5,Qxe4,Qxe5,Bd3,O-O,Nf3,Qxe4+,Bxe4,Bd7,O-O-O,Rfd8,h4,h6,g4,Kf8,g5,hxg5,hxg5,Ke7,Rh7,Rg8,g6,f6,Re1,Be8,Bxc6,Bxc6,Nd4,Bd7,f4,Rae8,f5,e5,Nb3,Bxf5,Rg1,Rh8,Nc5,Bxg6,Rxh8,Rxh8,Rxg6,Rg8,Nxb7,Kd7,Nc5+,Kd6,Ne4+,Ke6,Kd2,Kf5,Rg2,Kxe4,Re2+,Kd5,Re3,f5,Rd3+,Kc5,b4+,Kc6,c4,e4,Rd5,Rf8,b5+,Kb6,Rd6+,Kc5,Rc6+,Kb4,Kc2,e3,Kb2,e2', 'a3+,Ka5,Ra6#', 'https://lichess.org/training/rHmuZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHNIB', 'Rapid', 'Immortalized-K', 2066, 'avatarsimple', 2107, 'e4,g6,d4,Bg7,Nf3,c5,dxc5,Qa5+,c3,Qxc5,Na3,Bxc3+,bxc3,Qxc3+,Qd2,Qxa1,Nb5,Na6,Bc4,Qg7,Ng5,e6,Nd6+,Kf8,Ndxf7,h6,Ba3+,Ne7,Nd6,hxg5,Bb2,e5,O-O,Nc5,f4,gxf4,Rxf4+,Nf5,exf5,gxf5,Rxf5+,Ke7,Bxe5,Qh6,Qd4,Qc1+,Bf1,Ne6,Bxh8,Nxd4,Nxc8+,Rxc8,Bxd4,Qc2,Re5+,Kd6,Re2,Qc6,Rd2,Qe4,Bxa7+,Ke6', 'Re2,Kd5,Rxe4', 'https://lichess.org/training/rHNIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RhnWv', 'Classical', 'Titan8', 1813, 'Aleskei', 1665, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Ba4,Nxf3+,Qxf3,Nf6,c3,b6,d3,Bb7,Bg5,Be7,Nd2,h6,Bh4,g5,Bg3,g4,Qe2,h5,Nc4,b5,Bxb5,c6,Ba4,d6,f3,h4,Bf2,Qd7,O-O-O,gxf3,gxf3,O-O-O,Bxa7,Qe6,Bb3,d5,exd5,Nxd5,Nb6+,Kc7,Nxd5+,Rxd5,Bxd5,Qxd5,Kb1,Ra8,c4,Qa5,Bb6+,Kxb6,b3,f6,f4,Bd6,Rd2,c5,Rhd1,Ka6,Qf2,Rh8,f5,Qc7,Rg1,Qh7,Rg6,Be7,Rd1,Qh5,Rdg1,Re8,Rg7,Bf3,Rxe7,Rxe7,Qxc5,Qxf5,Qb5+,Ka7,c5,Rb7', 'Qa5+,Kb8,Rg8+', 'https://lichess.org/training/RhnWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RHPg7', 'Blitz', 'Gabsson87', 2247, 'NM ultrahunter', 2391, 'e4,c5,c3,d5,exd5,Qxd5,d4,cxd4,Nf3,e6,cxd4,Nf6,Nc3,Bb4,Be3,O-O,Bd3,b6,O-O,Bxc3,bxc3,Bb7,c4,Qd6,Qd2,Nbd7,Bf4,Qc6,Rac1,Rfe8,Rfe1,Rad8,h3,Qa4,Bc2,Qc6,Qe3,Nf8,Qa3,Ng6,Ba4,Qc8,Bg5,Bc6,Bc2,Bxf3,Qxf3,Rxd4,Bxf6,gxf6,Qxf6,Red8,g3,Qc5,h4,Rg4,Be4,Rxg3+,Kh2,Rg4,Qxd8+,Kg7,Qd2,Rxh4+,Kg2,Nf4+,Kg3', 'Qg5+,Kf3,Rh3#', 'https://lichess.org/training/RHPg7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rhQyz', 'Blitz', 'region19', 1945, 'pincopallino68', 1932, 'd4,c5,Nf3,cxd4,Nxd4,d6,g3,e5,Nb3,h6,Bg2,Be7,c4,Nf6,Nc3,a6,h3,O-O,Be3,Nbd7,Na4,Qc7,Rc1,Re8,O-O,Rb8,Qd2,b6,Nc3,Nc5,Nd5,Nxd5,cxd5,Qb7,Nxc5,bxc5,b3,Bf6,Rc4,Bd7,g4,Bb5,Re4,Be7,g5,h5,f4,exf4,Bxf4,Bf8,Bg3,Rxe4,Bxe4,Re8,Qf4,Bxe2,g6,Bxf1', 'gxf7+,Qxf7,Bh7+,Kxh7,Qxf7', 'https://lichess.org/training/rhQyz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHR7p', 'Rapid', 'alsing', 1863, 'Rishat83', 1851, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,e5,Nb5,Qb6,N1c3,a6,Nd5,Qc6,Nbc7+,Kd8,Nxa8,Nf6,Nxf6,Qxf6,Be3,Nc6,Nb6,Bb4+,c3,Ba5,Nxc8,Kxc8,Qf3,Qe6,Be2,b5,a4,b4,Bxa6+,Kc7,cxb4,Nxb4,Rc1+,Kb8,Bc4,Nc2+,Kd1,Qxc4,Rxc2,Qxa4,Qxf7,Rc8,b3,Qa1+,Bc1,Qd4+,Bd2,Rxc2,Qg8+,Kb7,Qd5+', 'Qxd5,exd5,Rxd2+', 'https://lichess.org/training/rHR7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rhrn7', 'Rapid', 'Venkatesh99', 1814, 'Raymundr', 1891, 'e4,e6,e5,d5,Nf3,c5,c3,Nc6,d4,cxd4,cxd4,Bb4+,Nc3,Nge7,a3,Ba5,Bb5,O-O,O-O,a6,Ba4,Bd7,Bc2,Qb6,Qd3,Ng6,Ne2,Rac8,b4,Bxb4,axb4', 'Nxb4,Qb3,Rxc2', 'https://lichess.org/training/Rhrn7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RhSIH', 'Classical', 'sternstauner', 1728, 'Jose-Toledo', 1917, 'd4,Nf6,Bf4,e6,e3,c5,Nf3,Nc6,h3,d5,c4,a6,Nc3,h6,Bd3,Be7,O-O,O-O,cxd5,Nxd5,dxc5,Bxc5,Ne4,Nxf4,exf4,Be7,a3,b5,Ne5,Bb7,Rc1,Nxe5,fxe5,Qb6,Qe2,Rac8,Bc2,Rfd8,Rfd1,Rd4,Rxd4,Qxd4,Nd6,Qxb2', 'Bh7+,Kxh7,Qxb2', 'https://lichess.org/training/RhSIH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RhSwn', 'Rapid', 'unre17', 2082, 'GBayraa', 2076, 'e4,g6,f4,Bg7,Nf3,d6,Bc4,Nf6,Nc3,O-O,d4,c6,Be3,b5,Bd3,a6,Qd2,Nbd7,e5,dxe5,dxe5,Nd5,Be4,e6,O-O-O,Bb7,h4,h5,g4,hxg4,Ng5,N7b6,Bc5,g3,Bxd5,Nxd5,Nxd5,Qxd5,Qxd5,cxd5,Bxf8,Kxf8,Rhg1,Rc8,Rxg3,Rc4,Nh3,Bh6,Rf3,Re4,Kd2,Rxe5,Kd3,Rf5,Re1,Rh5,Ng5,Rxh4,Rh3', 'Bxg5,Rxh4,Bxh4', 'https://lichess.org/training/RhSwn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RHTRw', 'Blitz', 'elos63', 1997, 'ghass', 2057, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Qc7,a3,Nf6,Nc3,Be7,Be2,O-O,O-O,d6,Be3,Nbd7,Rc1,b6,f3,Bb7,Qe1,Rac8,Qf2,Rfd8,Rfd1,Nc5,b4,Ncd7,g4,Ne5,g5,Nfd7,Na4,Bc6,Nxc6,Qxc6,Nxb6,Nxb6,Bxb6,Rd7,Be3,Qa4,f4,Nc6,b5,axb5,cxb5,Na7,Bxa7,Rxc1,Rxc1,Rxa7,Rc8+,Bf8,Qb6,Qxa3', 'Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/RHTRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHttX', 'Rapid', 'Felixxxv', 1688, 'victelen', 1722, 'e4,c5,e5,d6,exd6,Qxd6,Nc3,Nf6,Nf3,a6,d3,b5,h3,Bb7,Qe2,e6,Qe5,Nbd7,Qxd6,Bxd6,Be2,O-O,O-O,Rfd8,Be3,Nd5,Nxd5,Bxd5,b3,Ne5,Nxe5,Bxe5,Rab1,Rac8,f4,Bc3,Bf3,c4,dxc4,bxc4,Bxd5,exd5,Rbd1,d4,Bd2,Bb2,Bc1,c3,Bxb2,cxb2,Rf2', 'd3,c4,d2', 'https://lichess.org/training/rHttX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHuCt', 'Rapid', 'JacquesLondres', 1937, 'Khalidyounis', 1795, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Bd7,Bxc6,Bxc6,Bxe5,Nf6,Nf3,Bd6,Bb2,O-O,O-O,Re8,h3,Bb5,d3,c5,a4,Ba6,Re1,b5,axb5,Bxb5,c4,dxc4,dxc4,Bc6,Ra6,Qc7,Bxf6,gxf6,Nbd2,Rad8,Qa1,Ra8,Qxf6,Re6,Qh4,Rg6,e4,Kh8,e5,Be7,Qf4,Rag8,g3,Qc8,Rxa7,Bxf3,Qxf3,Bg5,Ne4,Qxh3,Nxg5,Rxg5,Rxf7,Rxg3+,fxg3,Rxg3+,Qxg3,Qxg3+,Kf1,Qd3+,Re2,Qd1+,Kf2,Qd4+,Re3,Qh4+,Ke2,Qh5+,Rff3,Qh2+,Rf2,Qh5+,Kd2,Qh6,e6,Qg7,e7,Qb2+,Ke1,Qc1+,Ke2,Qc2+,Kf3,Qf5+,Kg2,Qg5+,Kf1,Qxe3,Rf8+,Kg7,e8=Q,Qd3+,Kf2,Qd4+,Kf3,Qc3+,Kf4,Qd2+,Kf3,Qc3+,Qe3', 'Qxe3+,Kxe3,Kxf8', 'https://lichess.org/training/rHuCt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rhunz', 'Blitz', 'comoesquesejuegaesto', 1703, 'dasielAG', 1738, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,d6,d4,exd4,cxd4,Bb6,Bg5,h6,e5,hxg5,exf6,Qxf6,Re1+,Be6,d5,Ne5,Nxe5,Qxf2+,Kh1,dxe5,dxe6', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/rhunz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rHUre', 'Rapid', 'MrScribbler', 1623, 'laeca53', 1819, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,O-O,O-O,d6,h3,Be6,Bxe6,fxe6,Re1,Re8,Na4,Bb6,Nxb6,axb6,b3,d5,Bb2,d4,Qd2,Nh5,Kh2,Nf4,g3,Nh5,a4,Rf8,Kg2,Qf6,Nh2,Qg6,Ng4,Nf6,Qe2,h5,Nxf6+,Rxf6,h4,Raf8,Rf1,Rf3,Bc1,Qg4,Bg5', 'Rxg3+,fxg3,Qxe2+', 'https://lichess.org/training/rHUre');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RhuUJ', 'Classical', 'speicher', 1725, 'muswin', 1650, 'd4,Nf6,Nf3,d6,c4,g6,Nc3,Bg7,e3,O-O,Bd3,e5,dxe5,dxe5,Nxe5,c6,Nf3,Bg4,O-O,Re8,Be2,Nbd7,b3,Bxf3,Bxf3,Ne5,Qe2,Qa5,Bb2,Rad8,Rfd1,Nfd7,Rab1', 'Nxf3+,Qxf3,Bxc3,Bxc3,Qxc3', 'https://lichess.org/training/RhuUJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RHww8', 'Rapid', 'Udgin', 1865, 'irma_vep', 1834, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,Bg4,h3,Bxf3,Qxf3,Nc6,Bc4,e6,Be3,Qf6,Qe2,Nge7,d5,exd5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,O-O,O-O-O,Rab8,Bd4,Qg5+,Be3,Qxg2', 'Rdg1,Bxc3,Rxg2', 'https://lichess.org/training/RHww8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RHyHw', 'Rapid', 'mariuseg', 2107, 'nlfasse', 2070, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,Bb4,Bd3,d5,exd5,Nxd5,Bd2,Nxc3,bxc3,Bd6,O-O,O-O,f4,f5,fxe5,Bxe5,Qf3,Qc7,h3,Bd7,Nd4,g6,Rae1,Nc6,Qd5+,Kh8,Bh6,Bg7,Bxg7+,Kxg7,Bc4,Rae8', 'Rxe8,Rxe8,Qf7+', 'https://lichess.org/training/RHyHw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rhYuV', 'Rapid', 'Zamil', 1929, 'EndoeNesia', 1951, 'Nf3,Nc6,d4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,d5,Nb8,a4,a5,Be3,e6,Bxb6,cxb6,Nc3,Bb4,Bb5+,Bd7,dxe6,fxe6,Bxd7+,Qxd7,Qb3,O-O,Rd1,Qe7,O-O,Kh8,Nd4,e5,Nf5,Qg5,Nd5,Nc6,Nc7,Rxf5,exf5,Rc8,Qe6,Rg8,Rd7,Nd4,Qxe5', 'Nf3+,Kh1,Nxe5', 'https://lichess.org/training/rhYuV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rI0e6', 'Blitz', 'FM P--H--I--L--O--U', 2379, 'FM Lex6699', 2435, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,e5,Qd3,Be7,Be3,Nf6,Nh4,d5,exd5,Nxd5,Nf5,Bf6,O-O-O,Nxe3,Qxe3,Qb6,Nd6+,Ke7,Nf5+,Kf8,Qd2,h5,f3,g6', 'Qd6+,Kg8,Qxf6', 'https://lichess.org/training/rI0e6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ri10a', 'Rapid', 'Jeetkunedoo', 1895, 'bbmoro', 1896, 'Nf3,d5,d4,Nf6,Bg5,e6,e3,Be7,Nbd2,h6,Bh4,Nbd7,Bd3,c5,c3,b6,O-O,Bb7,Qe2,O-O,Ne5,Nxe5,dxe5,Nd7,Bxe7,Qxe7,a4,Nxe5,Bc2,Rad8,a5,Nc4,Nxc4,dxc4,Qxc4,Rd2,Be4,Rfd8,Bxb7,Qxb7,axb6,axb6,b4,cxb4,cxb4,Rc8,Qb5,Rd5,Qa4,b5,Qa7,Qc6,h3,Rg5,g3,Qe4,Qa5,Rc4,Rfb1,h5', 'Qd8+,Kh7,Qxg5', 'https://lichess.org/training/Ri10a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ri1lN', 'Blitz', 'Strekoz', 1988, 'Harpo64', 2007, 'd4,Nf6,Nf3,c5,d5,e6,c4,exd5,cxd5,d6,Nc3,g6,e4,a6,a4,Bg4,Bg5,Bg7,Bc4,Nbd7,h3,Bxf3,Qxf3,O-O,O-O,Ne5,Qe2,Nxc4,Qxc4,Qc7,a5,Rfe8,Rae1,Nd7,f4,Rab8,b4,b5,axb6,Nxb6,Qd3,cxb4,Ne2,a5,f5,Nd7,f6,Ne5,Qg3,Bf8,Qh4,Nd7,Bh6,Kh8,Bxf8,Rxf8,Qh6,Rg8,Rf4,Qd8', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/ri1lN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RI3c8', 'Classical', 'grownupboy', 1617, 'Tucutac54', 1766, 'c4,c5,Nc3,Nc6,Nf3,g6,d4,cxd4,Nxd4,Bg7,e3,e6,Ndb5,a6,Nd6+,Kf8,e4,Qc7,Be3,Nge7,Bc5,Qa5,Qf3,f5,Ba3,Nd4,Qd1,fxe4,Nxe4,Qe5,Bd6,Qa5,Bd3,Nf5,Ba3,d5,O-O,dxe4,Nxe4,h6,Qf3,Kg8,g4,Nd4,Nf6+,Kf7,Qe4,Bxf6,Rad1,Qe5,Qg2,Ne2+,Bxe2,Qxe2,Rfe1,Qxc4,Rc1,Qd5,Qg3,Re8,Red1,Qxa2,Rc7,Kg8,Qd3,Qd5,Rxe7,Qxd3', 'Rxe8+,Kg7,Rxd3', 'https://lichess.org/training/RI3c8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RI7cZ', 'Rapid', 'Shomy019', 1693, 'Darkness9', 1701, 'e4,Nf6,Nc3,e5,Nf3,Bb4,Bc4,Bxc3,dxc3,O-O,Bg5,d6,Qd3,Nbd7,O-O-O,Qe8,h4,Ng4,Qd2,Nc5,Rde1,Qa4,Bb3,Nxb3+,cxb3,Qxa2,Kc2,f6,Be3,Nxe3+,Qxe3,Qa6,h5,Qb6,Qd2,f5,h6,g6,Nh4,Be6,c4,c6,Nxg6,hxg6,Qg5,Qd8', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/RI7cZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ri7l9', 'Bullet', 'tamer123464', 1651, 'perfectking', 1657, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Nc3,Qh5,Be2,Nc6,h3,O-O-O,O-O,Bxf3,Bxf3,Qg6,d3,Nd4,Be4,f5,Bf3,Nxf3+,Qxf3,Kb8,Bf4,e6,Rfe1,Bd6,Re2,Bxf4,Qxf4,Nf6,Rae1,Nh5,Qc4,Rhe8,Rxe6,Rxe6,Rxe6,Qf7,Nb5,Rc8,Qd4,b6,Qa4,a5,b4,Qxe6,bxa5,Kb7,a6+,Ka8,Nd4,Qe1+,Kh2,Qa5', 'Qc6+,Ka7,Qb7#', 'https://lichess.org/training/ri7l9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rI9rb', 'Rapid', 'ALKUDIES', 1720, 'Skipp', 1619, 'e4,d6,Nf3,e6,Bb5+,c6,Bc4,b5,Bb3,a6,a3,Bd7,Nc3,h6,d3,Be7,Be3,g5,h3,Nf6,Qd2,Nh7,Nh2,h5,Bd4,e5,Be3,f6,Nf3,Qc8,O-O-O,Qb7,Na2,a5,Nc3,b4,Na4,c5,Bd5,Bc6,b3,bxa3,Kb1,Bxd5,exd5,Qxd5,Nb6,Qb7,Nxa8,a4,Qa5,axb3,Nc7+,Kf7,Nb5,Nc6,Qa4,bxc2+,Kxc2,Nb4+,Kb1,a2+,Ka1,Ra8,Qb3+,Kg7,Na3', 'Rxa3,Qxa3,Nc2+,Kxa2,Nxa3', 'https://lichess.org/training/rI9rb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rIaFz', 'Classical', 'Asds12', 1870, 'Sashkasem', 1905, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,a5,a3,Bxd2+,Nbxd2,b6,e4,d5,cxd5,exd5,e5,Nfd7,Bd3,Ba6,Qc2,h6,Nb3,Bxd3,Qxd3,c5,dxc5,Nxc5,Nxc5,bxc5,Rd1,d4,Qb5+,Nd7,e6,fxe6,Ne5,Rb8,Qc6,Rb6,Qa4,Rd6,Nxd7,Rxd7,Qc4,Qe7,O-O,O-O,Rfe1,Rd5', 'Qxd5,exd5,Rxe7', 'https://lichess.org/training/rIaFz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RiALO', 'Blitz', 'Andrianarisoa', 1783, 'Deep612', 1784, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,h6,d4,d5,exd5,exd4,Nxd4,Nb4,Nb3,Bf5,Nd4,Qe7+,Be3,Bg6,O-O,O-O-O,a3,Nbxd5,Bxd5,Nxd5,Qg4+,Kb8,Rfe1,Nxe3,Rxe3,Qc5,Ne6,fxe6,Qxg6,Bd6,Rxe6,Rhf8,Rf1,Qc4,Rfe1,Bc5,Ne4,Qxc2,Nxc5', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/RiALO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rib3O', 'Blitz', 'ifeelgood78', 1749, 'scipno', 1730, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,Be7,d3,Nc6,a4,h6,Be3,Nh7,O-O,Ng5,Nxg5,Bxg5,Bxg5,Qxg5,Qf3,O-O,Nd5,Be6,Nxc7,Rac8,Nxe6,fxe6,Bxe6+,Kh8,Qg3,Qxg3,hxg3,Rce8,Bd7,Re7,Bxc6,bxc6,f4,Rb8,b3,d5,exd5,cxd5,Rae1,Rc8,Rf2,e4,dxe4,dxe4,Rfe2,Rd7,Rxe4,Rxc2,R1e2,Rc3,R4e3,Rc1+,Kf2,Rdd1,Kf3,h5,Re7,Rd3+,R2e3,Rd4,Rxa7,Rf1+,Ke2,Rg1,Kf2,Rgd1,a5,R1d2+,Re2,R2d3,Rb2,Re4,b4,Ree3,b5,Rxg3,b6,Rg4,Rf7,h4,b7,h3,b8=Q+,Kh7,gxh3,Rgg3,Qe5,Rc3,Qf5+,Kh6,Qe6+,Kh7,Qe4+,Kh6,Rb6+,g6,Qxg6+,Rxg6,Rxg6+,Kxg6,Ra7,Ra3,Kg2,Kf5,Ra8,Kxf4,a6,Ra2+,Kf1,Kf3,Rf8+,Ke3,Rd8,Kf3,Rd1,Rh2,Rd3+,Kf4,Ke1,Ke4,Rg3,Kf4,Rb3,Ra2,Rb4+,Ke3,h4', 'Ra1+,Rb1,Rxb1#', 'https://lichess.org/training/Rib3O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ricaS', 'Blitz', 'FM steva23', 2437, 'Falkenauge', 2626, 'd4,Nf6,c4,e5,e3,Bb4+,Bd2,Bxd2+,Nxd2,exd4,exd4,O-O,Be2,Re8,Ngf3,d5,c5,Nc6,O-O,Ne4,a3,Bg4,b4,Qf6,h3,Nxd2,Qxd2,Bxf3,Bxf3,Nxd4,Bxd5,Rad8,Rfe1,Rxe1+,Rxe1,g6,Qa2,c6,Bc4,h5,Re3,Nf5,Rd3,Re8,Qd2,Re4,Bb3,Qe5,g3,Nd4,Bd1,h4,Kg2,hxg3,Rxg3,Nf5,Rd3,Re1,f4,Qe4+,Bf3,Nh4+,Kf2,Nxf3,Rxf3,Rf1+,Kxf1,Qxf3+,Ke1,Qxh3,Qd8+,Kg7,Qd4+,Kh7,Qf6,Qe6+,Qxe6,fxe6,Ke2,Kg7,Kf3,Kf6,Ke4,Kf7,a4,Ke7', 'Ke5,a6,a5,Kf7,Kd6,Kf6,Kc7', 'https://lichess.org/training/ricaS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RicdC', 'Blitz', 'KrishnaYouAreGod', 1587, 'Kanni90', 1698, 'd4,e6,e4,b6,Bb5,Bb7,Nc3,Bb4,Ne2,Bxe4,a3,Bxc3+,Nxc3,Bg6,Qf3,c6,Bd3,Nf6,Bg5,d5,Ne2,Nbd7,c4,O-O,Bxg6,hxg6,O-O,Qc7,Rac1,Qb7,Nf4,Ne4,Nh3,f6,Be3,e5,Qg4,g5,Qe6+,Kh8,f3,exd4,Bxd4,Nd2,Rf2,Nxc4,Nxg5,fxg5', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/RicdC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rICdf', 'Blitz', 'Bogdan2020', 1541, 'DrGasThief', 1570, 'e4,e6,d4,d5,e5,f6,f4,fxe5,fxe5,Nc6,Nf3,Be7,Bb5,Bd7,O-O,Nh6,Bxc6,Bxc6,Bxh6,gxh6,Nbd2,Bg5,c4,Qe7,c5,O-O-O,a4,Be3+,Kh1,Rhg8,b4,Qg7,Qe2,Bxd2,Qxd2,Rdf8,b5,Bd7,c6,b6,a5,Bxc6,bxc6,b5,Nh4,a6,Rxf8+,Rxf8,g3,Qg4,Ng2,Qe4,Re1,Qf3,Kg1,Qa3,Qxh6,Qf3,Qxh7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/rICdf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rIcNO', 'Blitz', 'hovo22', 1945, 'Peska9', 1973, 'e4,e5,f4,exf4,Nf3,Nf6,e5,Nh5,Bc4,d5,exd6,Bxd6,O-O,O-O,d4,Bg4,Nc3,Nc6,Nd5,Nxd4,Qxd4,c6,Nc3,b6,Kh1,Bc5,Qxd8,Raxd8,Ne5,Bf5,Nxc6,Rd6,Nxa7', 'Ng3+,hxg3,Rh6#', 'https://lichess.org/training/rIcNO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rIdaI', 'Rapid', 'Mahirgoel', 1618, 'Mohamedy77', 1679, 'd4,e6,c4,c5,e3,cxd4,exd4,Nc6,Nc3,a6,Nf3,b6,Ne5,Nxe5,dxe5,Bb7,Bd3,Bc5,Ne4,Ne7,O-O,Ng6,Be3,Bxe3,fxe3,O-O,Nd6,Bc6,Be4,Qg5,Bxc6,dxc6,Qe2,Qxe5,Rad1,Rad8,Qd3,Qxb2,c5,bxc5,Qxa6,Ra8,Qxc6,Rxa2,Rb1,Qe2,Nxf7,Qxe3+,Kh1,Qd3,Qxe6,Ra6,Nh6+,Kh8,Rxf8+,Nxf8,Nf7+,Kg8', 'Nh6+,Kh8,Qg8#', 'https://lichess.org/training/rIdaI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RidwX', 'Rapid', 'AnatoliyPetrovitschG', 1674, 'zbigniewwu', 1714, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,d4,Bf5,Nf3,e6,Bg5,Be7,Nc3,b6,O-O,O-O,h3,Ne4,Bxe7,Qxe7,Ne5,Qf6,Nb5,a5,f3,Ng3,Re1,Rd8,c4,Nd7,cxd5,Nxe5,dxe5,Qg6,d6,Nh5,Kh2,Qg3+,Kh1,Nf4,Rg1,Bxh3,Qe1', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/RidwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RiE4V', 'Blitz', 'Ahmad_BKD', 2384, 'IM Saparmyrat', 2560, 'd4,c5,Nf3,cxd4,Nxd4,e5,Nf3,Nf6,c4,Nc6,Nc3,Bb4,Bd2,d5,Nxd5,Nxd5,cxd5,Qxd5,Bxb4,Nxb4,Qxd5,Nxd5,e4,Nb4,Bb5+,Ke7,Rc1,a6,Bc4,f6,a3,Nc6,Bd5,Bd7,Ke2,Rac8,Ke3,Rc7,Rc3,Rhc8,Rhc1,Kd8,Bxc6,Rxc6,Rxc6,Bxc6,Nd2,Ke7,Rc3,Rd8,Rd3,Rc8,Rc3,Ke6,g3,g6,f4,exf4+,gxf4,g5,Nf3,g4,Nd4+,Kf7,Nxc6,bxc6,f5,h5,Kf4,Kg7,Rd3,Rc7,h3,gxh3,Rxh3,Kh6,Rg3,h4,Rg8,Rh7,Kg4,Re7,Rg6+,Kh7,Kf4,h3,Rg3,Rb7,Rxh3+,Kg7,b4,a5,bxa5,Ra7,Rg3+,Kf7,Rc3,Rxa5,Rxc6,Rxa3,Rc7+,Kf8,Kg4,Ra4,Kh5,Rxe4,Kg6,Ra4,Rc8+,Ke7,Rc7+,Kf8,Rf7+,Kg8,Rd7,Ra6', 'Rd8#', 'https://lichess.org/training/RiE4V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rie50', 'Rapid', 'MyK_00L', 1871, 'crazy_tower', 1856, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,h6,Nf3,e4,Qe2,Be7,Ne5,Bd7,Nxd7,Qxd7,Qa6,Bd8,b4,Qb7,Bxc6+', 'Qxc6,Qxc6+,Nxc6', 'https://lichess.org/training/rie50');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rieve', 'Rapid', 'tanoori1385', 1852, 'Feodosyevich', 1824, 'e4,c5,Nc3,Nc6,Bb5,g6,Bxc6,bxc6,f4,d5,e5,f6,Nf3,Bg7,d4,cxd4,Qxd4,Qb6,Qxb6,axb6,exf6,Nxf6,O-O,O-O,Ne5,Bb7,Be3,c5,Nb5,d4,Bf2,Ne4,Nc7,Rac8,Ne6,Bxe5,Nxf8,Bxf4,Ne6,Bh6,Bg3,Be3+,Kh1,Nxg3+,hxg3,h6,Nf4,Kg7,Nh3,g5,Rad1,Be4,c3,Bc2,Rde1,Bd3,Rf3,e5,Rfxe3,dxe3,Rxe3,e4,Nf2,c4,Nxe4', 'Re8,Nxg5,Rxe3', 'https://lichess.org/training/rieve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('riFNs', 'Rapid', 'ahmadmonther97', 1741, 'Huynhh', 1750, 'e4,c5,Nf3,d6,Bc4,a6,Nc3,Nc6,a3,Nf6,d3,Bg4,h3,Bh5,g4,Bg6,Ng5,e6,f4,h6,f5,hxg5,fxg6,fxg6,Bxg5,Be7,Bxe6,Qb6,Bb3,Nd4,Na4,Qd8,Ba2,b5,Nc3,Rf8,Ne2,Nf3+,Kf1,Nxg5,Kg2,d5,c4,dxe4,cxb5,axb5,Qb3,exd3,Rad1,c4,Qxb5+,Qd7,Qxc4,Rd8,Bb1,Nfe4,Rhf1,Rxf1,Rxf1,dxe2', 'Qg8+,Bf8,Qxf8#', 'https://lichess.org/training/riFNs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('riFVl', 'Rapid', 'taupuri1', 2258, 'No_soy_yo', 2199, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,Bd6,Bg3,O-O,Bd3,c5,c3,Qc7,Nbd2,Nbd7,O-O,b6,Qe2,Bb7,e4,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Bxg3,hxg3,Nf6,Qh4,Rfd8,Rad1,Rd5,c4,Rh5,Qf4,Qxf4,gxf4,cxd4,Rxd4,Kf8,Ne5,Rc8,b3,Ne8,g4,Rh3,f3,f6,Nd3,Ke7,Kg2,Rh6,Re1,g5,Rde4,Nc7,f5,e5,f4,gxf4,Nxf4,Rd8,R1e2,Rd1,Nh3,Na6,g5,Rh5,gxf6+,Kxf6,Rxe5,Rxf5,Rxf5+,Kxf5,Re7,Rd2+,Nf2,Nc5,Rxa7,Nd3,Rf7+,Kg6,Rf3', 'Ne1+,Kg3,Nxf3', 'https://lichess.org/training/riFVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RigQb', 'Rapid', 'sachaken78', 1708, 'OlegLipatov', 1675, 'e4,e5,Nf3,Nc6,d4,Bb4+,c3,Bd6,d5,Nce7,Bg5,h6,Bxe7,Qxe7,Bd3,Nf6,O-O,g5,h4,g4,Ne1,h5,g3,c5,Ng2,a6,c4,Bc7,Ne3,d6,Qd2,a5,Na3,Bd7,Nf5,Qf8,Qg5,Bd8,Qg7,Bxf5,Qxf8+,Rxf8,exf5,e4,Bc2,Ke7,Rfe1,Bb6,Bxe4,Kd7,Bd3,Rfe8,Nc2,a4,a3,Ba5,Re3,Re5,Rxe5,dxe5,Ne3,e4,Bc2,Bc7,Rd1,Be5,Rb1,Bd4,Bd1,Kd6,Nc2,Ke5,Nxd4,cxd4,b3,axb3,Rxb3,Rb8,a4,Nd7,Rb5,Kxf5,d6+,Ke6,Rd5,d3,Kf1,Nb6,Rd4', 'Ke5,Rxe4+,Kxe4', 'https://lichess.org/training/RigQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RiHFn', 'Rapid', 'ivan445', 1606, 'Andrey_Pankov', 1704, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,Ne5,Bd7,Bxc6,Bxc6,Qf3,Nf6,d4,e6,Bg5,Be7,Nxc6,bxc6,Bxf6,Bxf6,c3,Qb6,b3,O-O,O-O,c5,Na3,cxd4,c4,d3,Rad1,Qa6,Nb5,Qxa2,Qxd3,dxc4,Qxc4,Rac8,Qb4,a6,Rd2,a5', 'Qxf8+,Kxf8,Rxa2', 'https://lichess.org/training/RiHFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RiHFQ', 'Rapid', 'GkooJ', 1656, 'petrovich142', 1993, 'e4,c6,Nf3,d5,Nc3,Bg4,exd5,cxd5,h3,Bxf3,Qxf3,e6,d4,Nf6,Bg5,Be7,Bxf6,Bxf6,O-O-O,O-O,Bd3,Nc6,Ne2,Qb6,Qh5,g6,Qg4,Nb4,Kb1,Rac8,c3,Nxd3,Rxd3,Rc6,h4,h5,Qf3,Kg7,g4,e5,gxh5', 'e4,Qg3,exd3', 'https://lichess.org/training/RiHFQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RihOI', 'Blitz', 'DonCorliyoni', 1890, 'disciplinary-chair', 2285, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,Bc4,Qb6,Bb3,e6,f4,Qa5,Bxf6,Nxf6,O-O,Be7,f5,e5,Nf3,Bd7,Nd5,Nxd5,Bxd5,O-O,Bxb7,Qb6+,Kh1,Qxb7,Ng1,Qxe4,Qh5,Bf6,Rae1,Qxc2,Nf3,g6,fxg6,hxg6,Qh6,Bg7,Qh4,Qa4,Re4,Qa5,Ng5,Rfd8,Qh7+,Kf8,Rxf7+,Ke8,Qxg7,Qe1+', 'Rxe1,e4,Re7#', 'https://lichess.org/training/RihOI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RIISM', 'Classical', 'VadimBob', 1894, 'Goku_Ultra_Instinct', 1961, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Nc3,Nxc3,dxc3,Be7,Qd5,O-O,Nxe5,Nxe5,Qxe5,d6,Qe4,c6,Re1,Re8,Bd3,g6,Bg5,Bf5', 'Bxe7,Bxe4,Bxd8', 'https://lichess.org/training/RIISM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RiJH9', 'Rapid', 'ahmedalhilli', 1853, 'H1234amir', 1919, 'd4,Nf6,e3,d5,a3,g6,h3,Bg7,c4,c6,Nf3,Nbd7,Nc3,dxc4,Bxc4,Nb6,Ba2,Bf5,O-O,Nfd5,Ne2,O-O,Nc3,e5,Re1,Nxc3,bxc3,e4,Nh2,c5,f3,cxd4,exd4,exf3,Nxf3,Re8,Ng5,Nd5', 'Rxe8+,Qxe8,Bxd5', 'https://lichess.org/training/RiJH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RIJqd', 'Blitz', 'Cov87', 1901, 'selectedHawk', 1900, 'c4,Nf6,Nc3,e6,g3,d5,Bg2,c6,cxd5,exd5,e3,Bd6,Nge2,Bg4,O-O,Nbd7,h3,Bh5,g4,Bxg4,hxg4,Nxg4,Nd4,Qh4,Nf3,Bh2+,Kh1,Qh5,Ne2,Nde5,Neg1,Bxg1+,Kxg1', 'Nxf3+,Qxf3,Qh2#', 'https://lichess.org/training/RIJqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rimBa', 'Bullet', 'flat-earth', 1543, 'kingsac4theloss', 1605, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Be7,d3,h6,Be3,O-O,Qd2,a5,h3,Na7,g4,b5,Nxb5,Nxb5,Bxb5,c6,Bc4,Qb6,b3,Qb7,g5,hxg5,Nxg5,d5,exd5,cxd5,O-O-O,dxc4,dxc4,a4,h4,axb3,cxb3,Ba3+,Kb1,Bf5+,Ka1,Qxb3,axb3,Bc1+,Qa2', 'Rxa2+,Kxa2,Ra8+,Ba7,Rxa7#', 'https://lichess.org/training/rimBa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RImcs', 'Bullet', 'Sandip_kar_chem', 1744, 'Rennsemmel', 1816, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,d5,O-O-O,dxe4,fxe4,Bg4,Be2,Bxe2,Qxe2,Qa5,a3,e5,Nb3,Qc7,g4,Rfd8,h4,Rxd1+,Rxd1,Rd8,Rxd8+,Qxd8,Bg5,Qd7,Nd5,Nxd5,exd5,Qxd5,Kb1,Nd4,Qe3,Nxb3,cxb3,f6,Bh6,Qh1+,Ka2,Qxh4,Bxg7,Kxg7,Qxa7,Qxg4,Qxb7+,Kh6,a4,e4,a5,e3,a6,e2,Qh1+,Kg5,a7,Qc8,a8=Q,Qxa8+,Qxa8,e1=Q,Qg2+,Kf4,Qh2+,Qg3,Qxh7,g5,b4,g4,b5,Qe3', 'Qh6+,Ke4,Qxe3+,Kxe3,b6,g3,b7,g2,b8=Q', 'https://lichess.org/training/RImcs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rImE3', 'Blitz', 'VedranTriPrsta', 1816, 'Ashmuiz', 1814, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,d3,O-O,Re1,a6,Nbd2,Na5,Bb3,Nxb3,axb3,d6,Nf1,c5,Bg5,b5,Ne3,Bb7,c3,h6,Bxf6,Bxf6,Nd5,Bxd5,exd5,Qb6,c4,bxc4,dxc4,Rfe8,Re4,Reb8,Nd2,Bg5,Ra3,Qb4,Nf3,Bf6,Nh4,a5,Qg4,Qd2,Ra1,Qxb2,Rae1,Qxb3,Nf5,Kh7,Nxd6,a4,Qf5+,Kg8,Qd7,Rf8,R4e3,Qb6,Nb5,a3,Rxa3,Rxa3,Nxa3,Qa5,Nc2,Qc3,Qa4,Rd8,Kf1,Rb8,Ne3,Qd3+,Kg1,Rb1,Rxb1,Qxb1+,Nf1,Qd3,Qc6,Qd4,d6,Qxc4,d7,Qd4,Qc8+,Kh7,h3,Bh4,Qc6,Qxf2+,Kh1,Qxf1+,Kh2,Qf4+,Kh1,Qd4,Qc7,Bg3,d8=Q', 'Qa1+,Qd1,Qxd1#', 'https://lichess.org/training/rImE3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RInDS', 'Rapid', 'fawyfawy10', 1971, 'franz1023', 2093, 'e4,c5,d3,e6,Ne2,d6,Ng3,a6,Nc3,b6,Be2,Bb7,O-O,Nd7,a3,Ngf6,Nh5,Nxh5,Bxh5,Be7,Bf3,Rb8,Ne2,O-O,c3,b5,d4,Bf6,dxc5,Nxc5,Ng3,Qc7,Nh5,Be5,Bf4,Bxf4,Nxf4,Bxe4,Bxe4,Nxe4,Qg4,Nf6,Qf3,d5,Nd3,Ne4,Nb4,Qb6,Qe2,a5,Nc2,Rfc8,Ne3,b4,cxb4,axb4,axb4,Qxb4,h3,Qxb2,Qg4,Nxf2,Qg3,Ne4,Qf4,Qf6,Qg4,Qd4,Rae1,Rc3,Qf4,Rf8,Kh2,e5,Qf5,Rxe3,Rb1,Ng3', 'Qxf7+,Rxf7,Rb8+,Rf8,Rbxf8#', 'https://lichess.org/training/RInDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rINIu', 'Classical', 'sm1357', 1681, 'IRANPARS', 1708, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,Re1,O-O,c3,Ba7,d4,Re8,Bc2,d5,Bg5,h6,Bh4,dxe4,Bxe4,exd4,Bxc6,Rxe1+,Qxe1,bxc6,Qe5,d3,Bxf6,Qxf6,Qxc7,Bg4,Nbd2,Bc5,Qb7,Rd8,Qxa6,Re8,Qxd3,Rd8,Qc4,Bxf2+,Kxf2', 'Rxd2+,Qe2,Rxe2+', 'https://lichess.org/training/rINIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('riNtN', 'Blitz', 'OppaSchopp', 1679, 'Ranil007', 1695, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,e6,Nf3,Be7,Bd3,O-O,O-O,a6,e5,dxe5,dxe5,Nd5,Nxd5,exd5,Bc2,Be6,Qd3,f5,Nd4,Bf7,Nxf5,Bg6,Nxe7+,Qxe7,Qxd5+,Bf7,Qd4,Nc6,Qc3,Nxe5,Re1,Rfe8,f4', 'Nf3+,gxf3,Qxe1+,Qxe1,Rxe1+', 'https://lichess.org/training/riNtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rIO3k', 'Rapid', 'Oleksandr-dera', 1790, 'lukas0608', 1751, 'e4,c5,Nf3,d6,c3,Nf6,Qc2,e5,b4,Qb6,bxc5,Qxc5,d3,Bg4,Be3,Qc7,Be2,Nbd7,Na3,d5,Nb5,Qa5,a4,d4,Bd2,dxc3,Bxc3,Rc8,Qb2,Qb6,Nxe5,Rxc3,Nxd7,Nxd7,Qxc3,Bxe2,Kxe2,Bc5,Qxg7,Rf8,f3,a6,Rab1,axb5,Rxb5,Qa6,Qa1,Qh6,d4,Bb6,a5,Qc6,Qb2,Qc4+,Ke3', 'Bxd4+,Qxd4,Qxb5', 'https://lichess.org/training/rIO3k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RIpyu', 'Blitz', 'FM Mazoetan', 2298, 'Jethro_Talj', 2400, 'd4,g6,e4,Bg7,Nf3,d6,Bc4,Nf6,Qe2,O-O,h3,Nc6,O-O,e5,dxe5,Nxe5,Nxe5,dxe5,Nc3,c6,Bg5,Qe7,Rfd1,h6,Be3,b5,Bb3,a5,a4,b4,Nb1,Nxe4,Qc4,Bf5,g4,Qh4,gxf5,gxf5,Nd2,Bf6,Nxe4,fxe4,Rd7,Kh8,Kh2,Bg5,Qc5,Bf4+,Kg2', 'Rg8+,Kf1,Qxh3+', 'https://lichess.org/training/RIpyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rIqbs', 'Classical', 'dhimiter', 1759, 'd8e2n2', 1683, 'e4,c5,Bc4,e6,d4,cxd4,Qxd4,Nc6,Qd1,d5,exd5,exd5,Bxd5,Nf6,Bxc6+,bxc6,Qe2+,Be7,Bg5,O-O,Nd2,Re8,O-O-O,Nd5,Bxe7,Rxe7,Qf3,Ba6,c4,Nb4,Nb3,Nxa2+,Kb1,Rd7,Rxd7,Qxd7,Kxa2,Bxc4,Qc3,Be6,Nf3,c5,Nd2,Qa4+,Kb1,Bf5+,Kc1,Rb8,Qc4,Qxc4+,Nxc4,Rxb3,Nd6,g6,Re1,Rb6,Nc4,Re6,Rd1,Re2,Rd8+,Kg7,Nd6,Rxf2,Ne8+,Kh6,Nd6,Be6,g4,Rxh2,Ne4,Bxg4,Nxc5,f5,Nd3,Rh1+,Kc2,Rd1,Ra8,Ra1,b4,Bf3,Rb8,Be4,Kb2,Rd1,Ne5,f4,Re8,Bd5,Rd8,f3,Rf8,Rf1,Nd3,Rd1,Kc2,Rh1,Kd2,g5,Rf6+,Kh5,Ke3,Kg4', 'Nf2+,Kh5,Nxh1', 'https://lichess.org/training/rIqbs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('riqXC', 'Rapid', 'ChessEFNCT', 1762, 'Vinikhan', 1775, 'd4,d5,c4,dxc4,Nc3,e6,e4,Nc6,Bxc4,Nxd4,Be3,Bc5,Qa4+,Bd7,Bb5,c6,Bc4,b5,Bxd4,bxa4,Bxc5,Nf6,O-O-O,Qc7,Nf3,O-O-O', 'Ba6+,Kb8,Bd6', 'https://lichess.org/training/riqXC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RIrHq', 'Rapid', 'MikhailTalDon', 1925, 'AAS56', 2041, 'd4,e6,c4,d5,Nf3,Nf6,g3,c6,Bg2,Nbd7,O-O,dxc4,Nc3,Nd5,e4,Nxc3,bxc3,Nb6,Ne5,Bd6,Bf4,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/RIrHq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RisBF', 'Rapid', 'formula1Gambit', 1907, 'mushu2000', 1881, 'd4,c5,Nf3,cxd4,Nxd4,Nc6,e4,g6,Nxc6,bxc6,Qd4,f6,Be3,Bg7,Nc3,Nh6,h3,O-O,Bc4+,e6,Qd2,Nf7,O-O,Bb7,f4,d5,exd5,exd5,Bd3,d4,Ne4,dxe3,Qxe3,Qb6,Qxb6,axb6,c3,c5,a4,f5,Ng5,Nxg5,fxg5,Be4,Bc4+,Kh8,Rfe1,Bc6,Bb3,Rfe8,Red1,Re2,Rd6,Bxg2,Rxb6,Bxh3,Bd5,Rd8,Bf3,Re3,Bc6,f4,a5,Rg3+,Kf2,Re3,a6,Rd2+,Kg1,Rg3+,Kh1,Bf8,a7,f3,a8=Q,Bg2+,Kh2', 'Rh3+,Kg1,Rh1#', 'https://lichess.org/training/RisBF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RIsxw', 'Rapid', 'Greeny47', 1821, 'Medreder', 1823, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Qf3,Nf6,Bb5+,c6,Bc4,Qe5+,Nge2,Bg4,Qg3,Qf5,d3,Nbd7,Bf4,Nd5,Nxd5,cxd5,Bb3,e5,Bd2,e4,Nf4,exd3,Qxd3,Qe5+,Be3,Nb6,Qb5+,Bd7,Qd3,Bc5,O-O-O,d4,Bxd4', 'Qxf4+,Rd2,Bxd4', 'https://lichess.org/training/RIsxw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ritFe', 'Rapid', 'ranjithvuppala', 1799, 'Giuseppe_Patane', 1758, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,Bc4,a5,a4,Nbd7,O-O,Nb6,Bb5+,Bd7,Bd3,O-O-O,b3,h5,Ba3,Qf4,Ne2,Qg4,Ne5,Qh4,Nxf7,Ng4,h3,Nf6,Nxh8,Bxh3,Ng6,Qg5,Ng3,e5,gxh3,e4,Ne7+,Bxe7,Bxe7,exd3,Bxd8,Kxd8,cxd3,h4,Qf3,hxg3,fxg3,Qxd2,Qxb7,Qe3+,Rf2,Qxg3+,Rg2,Qe3+,Kh2,Qf4+,Kh1,Qh4,Qf3,Nbd5,Rg4,Nxg4,Qxg4,Qf2,Qg5+,Nf6,Rg1,Qf3+,Qg2,Qxd3,Qxg7', 'Qxh3#', 'https://lichess.org/training/ritFe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('riuAa', 'Rapid', 'PankajSurya', 2061, 'AirCPLP', 2221, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,a6,a4,Qc7,d3,Nf6,O-O,h6,Be3,Be7,Qd2,g5,Rfe1,Ng4,h3,Nxe3,Rxe3,g4,hxg4,Rg8,Nh2,Bg5,Nd1,Ne5,Bb3,b6,g3,Bxe3,Qxe3,Bb7,Qxh6,O-O-O,Ne3,Rh8,Qf6,Rh7,Rd1,Rdh8,f4,c4,fxe5,cxb3,Rd2,Qc5,d4,Qa5,Nc4,Qxd2,Nxd2,bxc2,Nb3,Rxh2,Qf3,Rd2', 'Qc3+,Kb8,Qxd2', 'https://lichess.org/training/riuAa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rIulQ', 'Classical', 'Den19987', 1813, 'Igor_Shah', 1779, 'e4,e5,Nf3,f5,Nc3,Nf6,exf5,Nc6,Bc4,d5,Bb5,Bxf5,O-O,Bd6,Re1,O-O,Bxc6,bxc6,Nxe5,Ne4,Nxc6,Bxh2+,Kxh2,Qd6+,Kg1,Qxc6,Nxe4,Bxe4,d3,Bf5,Be3,Qg6,Bd4,Bh3,g3,Rf7,Qd2,a6,Re3,Rc8,Rae1,Rcf8,Re8,c6,Rxf8+,Rxf8,Re5,h6,Bc5,Rf3,Qe2,Bg4,Re8+,Kh7,Qe5,Bh5,Bd4,Rf6,Qb8', 'Qxe8,Qxe8,Bxe8,Bxf6,gxf6', 'https://lichess.org/training/rIulQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rivaE', 'Rapid', 'koreelev', 1793, 'chesswithcoach', 1946, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,e5,Nb3,Be6,Be2,d5,exd5,Nxd5,Nxd5,Qxd5,O-O,Nc6,Be3,Be7,f4,O-O,fxe5,Qxe5,Bf4,Qxb2,Bd3,Rfd8,Qf3,Bf6,Rab1,Qc3,Bg5,Bxg5', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/rivaE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('riwMz', 'Rapid', 'francekonjar', 1765, 'Barbod2012', 1763, 'e4,e5,f4,Nc6,Nf3,f6,Bc4,Nge7,O-O,d5,exd5,Nxd5,fxe5,Nxe5,Nxe5,fxe5,Qh5+,Kd7,Bxd5,g6,Qxe5,Bc5+,d4,Re8,Qg7+,Be7,Nc3,c6,Be6+,Kxe6,Qf7+,Kd7,Ne4,Kc7,Bf4+,Kb6,Qb3+,Ka6,Nc5+,Bxc5,dxc5,Qd4+,Kh1,Qxc5,Rae1,Rxe1,Rxe1,Bg4,Be3,Qe5,Bd2,Qc5,Qa4+,Kb6,Be3,Re8,Qb3+,Kc7,h3,Qa5,Bf4+,Kd8,Qd3+,Bd7,Bg5+', 'Qxg5,Rxe8+,Kxe8', 'https://lichess.org/training/riwMz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rixCA', 'Rapid', 'mrmont', 1667, 'ariel_the_lion', 1707, 'e4,e5,Bc4,d6,d3,a5,a4,h6,Qh5,g6,Qf3,Qf6,Qg3,Be6,Bxe6,Qxe6,Qh4,Nc6,c3,Qb3,Nd2,Qc2,Ke2,Nb4,cxb4,axb4,Nf3,Rxa4,Rxa4,Qxa4,b3,Qa2,Kd1,Bg7,Ne1,Nf6,Qh3,Ke7,Nc2,c5,Ne3,h5,Qh4,Bh6,g3,g5,Qh3,g4,Qf1,Bxe3,fxe3,d5,Qf5,Qa1,exd5,Nxd5,d4', 'Nxe3+,Ke2,Nxf5', 'https://lichess.org/training/rixCA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('riz3g', 'Rapid', 'Teko59', 1835, 'Irriducibile', 1887, 'e4,b6,Bc4,e6,Nf3,Bb7,d3,Bb4+,Bd2,Bxd2+,Nbxd2,Ne7,O-O,O-O,d4,d5,Bd3,dxe4,Nxe4,Nd7,c3,Nf5,Qc2,c5,Ned2,g6,Be4,Bxe4,Nxe4,cxd4,Nxd4,Nxd4,cxd4,Rc8,Qa4,Qc7', 'Qxd7,Qxd7,Nf6+,Kg7,Nxd7,Rfd8,Ne5', 'https://lichess.org/training/riz3g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rIzPm', 'Rapid', 'Dr_Chessington', 1786, 'KyosukeCM', 1874, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bb5,Nge7,Nd5,Nxd5,exd5,Nd4,Bc4,d6,Nxd4,Bxd4,c3,Bxf2+,Kxf2,Qh4+,g3,Qxc4,Qf3,Bg4,Qe3,Qxd5,Rf1,Bh3,Rg1,Bg4,d4,O-O,dxe5,Rfe8,Qf4,Rxe5,Qxg4,Rf5+,Bf4,g5,Rad1,Qe6,Rge1,Qd7,Kg2,Kf8,Bxg5', 'Rf2+,Kxf2,Qxg4,Bh6+,Kg8', 'https://lichess.org/training/rIzPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RIzSo', 'Classical', 'gvonber', 1626, 'Fingolfin7', 1600, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,c3,Na5,Bxf7+,Kxf7,b4,Bxf2+,Kxf2,Nc6,Qb3+,Be6,Qc2,h6,Rf1,a6,a4,Nf6,Kg1,Rf8,Nbd2,Kg8,d4,Qe8,d5,Nxe4,dxe6,Nxd2,Bxd2,Qxe6,b5,axb5,axb5,Rxa1,Rxa1,Ne7,Ra7,Qd5,c4', 'Qc5+,Be3,Qxe3+', 'https://lichess.org/training/RIzSo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RIZxp', 'Blitz', 'beerye', 1634, 'chalyabc', 1640, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Ne7,Bd3,O-O,f4,Ng6,Nf3,Nd7,O-O,Nh4,Nc3,Nxf3+,Rxf3,f5,Rc1,a6,b4,b5,a4,Rb8,axb5,axb5,Bxb5,Nb6,Na4,Nxa4,Bxa4,Ba6,Rc6,Bc4,Qb2,Qe7,b5,Rfc8,Rxc8+,Rxc8,b6,Rb8,Rc3,Qb7,Qb5,Qxb6,Qd7,Qb1+,Kf2,Qb2+,Rc2,Qxd4+,Kg3,Qb6,Rb2,Qxb2,Qxe6+,Kh8,Qd6,Qb7,Bc6,Qc8,e6,Rb6,e7,Rxc6', 'Qd8+,Qxd8,exd8=Q#', 'https://lichess.org/training/RIZxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RJ30r', 'Rapid', 'Elionater', 2088, 'Nekruz89', 2087, 'd4,d5,c4,Nf6,e3,a6,Nf3,Bg4,Qb3,b6,Be2,e6,Nc3,Be7,h3,Bh5,Ne5,Bxe2,Nxe2,Qd6,Bd2,Ne4,Bc3,Nxc3,bxc3,O-O,O-O,Nc6,Nd3,Na5,Qc2,Nxc4,Nb2,Nxb2,Qxb2,c5,Rac1,c4,a4,Bd8,Ng3,Bc7,Qe2,Qc6,Ra1,Bxg3,fxg3,Qd6,g4,e5,Qc2,exd4,exd4,Rae8,Rf5,Re3,Raf1,Qg3,Rxd5,Rxc3,Qf5,Ra3', 'Qxf7+,Rxf7,Rd8+,Rf8,Rdxf8#', 'https://lichess.org/training/RJ30r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rj3Ho', 'Blitz', 'Alirezafazli2310mohm', 1755, 'mohammadhoseinrezae5', 1770, 'h4,h5,a4,a5,g3,g6,c4,c5,e4,e5,Nc3,Nc6,f4,f5,exf5,exf4,fxg6,fxg3,Rh3,Rh6,Rxg3,Rxg6,Rxg6,d6,Rxg8,Kf7,Rxf8+,Kxf8,Bh3', 'Qxh4+,Kf1,Bxh3+,Nxh3,Qxh3+', 'https://lichess.org/training/rj3Ho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rj5Ji', 'Rapid', 'Mikolajmikolaj2018', 2077, 'cursed_russian', 2017, 'e4,c6,d4,d5,f3,dxe4,fxe4,Nf6,Nc3,Bg4,Nf3,e6,h3,Bxf3,gxf3,Bb4,Bg5,Bxc3+,bxc3,Qa5,Qd2,Nbd7,Bd3,h6,Bh4,Qh5,Qf2,O-O-O,Rb1,g5,Bg3,Rhe8,d5,c5,d6,Kb8,Bb5,Nh7,Bc6,b6,Bxd7,Rxd7,Qxc5,Qxf3,Qg1,Qxc3+,Kd1,Rc8,Qf2,Rc4,Rxb6+,axb6,Qxb6+,Rb7', 'd7+,Qxg3,d8=Q+', 'https://lichess.org/training/rj5Ji');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rJ991', 'Classical', 'Plutonium01', 1711, 'jeanksilva', 1722, 'd4,d5,c4,dxc4,e3,b5,Nc3,Ba6,Nf3,Nf6,g3,e6,Bg2,c6,Ne5,Qd6,Qf3,Bb7,Nxb5,Qb4+,Nc3,c5', 'Qxb7,Qxb7,Bxb7', 'https://lichess.org/training/rJ991');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rj9cv', 'Rapid', 'kaptan87', 1700, 'italiaclassica92', 1715, 'e4,c5,Nf3,d6,Bb5+,Nc6,O-O,e5,Nc3,Be6,b3,Be7,Bb2,Nf6,Re1,a6,Bc4,Bxc4,bxc4,O-O,Rb1,Rb8,Nh4,Nxe4,Rxe4,Bxh4,Qh5,Bg5,Rg4,Bxd2,Nd5,h6,Rd1,f5,Rg3,Bg5,Bc1,f4,Rg4,Nd4,h4,Ne2+,Kf1,Ng3+,fxg3,fxg3+,Kg1,Bxc1,Rxc1,Qe8,Qxh6,Qf7,Rxg3', 'Qf2+,Kh2,Qxg3+,Kxg3,gxh6', 'https://lichess.org/training/Rj9cv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjaXk', 'Rapid', 'Navier-Stokes23', 1696, 'Prometeo88', 1735, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bg5,Qb6,b3,cxd4,cxd4,Bb4+,Bd2,Nge7,Bd3,Ng6,O-O,Nxd4,Bxg6,fxg6,Bxb4,Nxf3+,Qxf3,Qxb4,a3,Qb6,b4,Rc8,Nd2,Qd4,Nb3,Qxe5,Nc5,Rf8', 'Qxf8+,Kxf8,Nxd7+,Ke7,Nxe5', 'https://lichess.org/training/rjaXk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjbjU', 'Classical', 'lucasbanzoli', 1984, 'boonwiroon', 1965, 'e4,d6,Bc4,g6,Nf3,e5,O-O,Bg7,h3,Be6,Bxe6,fxe6,b3,Nf6,Re1,O-O,Bb2,Nbd7,d4,exd4,Nxd4,Qe7,c4,e5,Nb5,Rfc8,N1c3,a6,Nd5,Qd8,Nxf6+,Nxf6,Nc3,Qe7,Nd5,Nxd5,Qxd5+,Kh8,Qxb7,Rcb8,Qd5,Rf8,Kh1,Qf6,Rf1,Qh4,Kg1,Rae8,Rae1,Re7,Re3,Ref7,Re2,Bh6,Qd3,Bf4,c5,Rf6,cxd6,cxd6,Ba3,g5,f3', 'Qg3,Bc1,Qh2+', 'https://lichess.org/training/rjbjU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjcAZ', 'Rapid', 'Gerardius', 1775, 'acioly44', 1786, 'e4,c5,Nc3,e6,Nf3,Nc6,Bc4,a6,d3,b5,Bb3,Bb7,Be3,Qc7,Qd2,h6,O-O-O,Nf6,h3,b4,Ne2,Na5,d4,Nxb3+,axb3,Bxe4,dxc5,Bxc5,Bxc5,Qxc5,Ned4,Rc8,Rhe1,Bxf3,Nxf3,O-O,Ne5,d5,Nd3,Qa5,Qxb4,Qxb4,Nxb4,a5,Nd3,Rc7,Ne5,Rfc8,Re2,Ne4,Rd3,Nf6,f4,Nd7,Nxd7,Rxd7,Rc3,Rdc7,Rxc7,Rxc7,Rd2,g6,Rd4,Kg7,Ra4,Rc5,Kd2,f6,c3,e5,Kd3,exf4,Kd4,Rb5,b4,axb4,Rxb4,Rxb4+', 'cxb4,Kf7,Kxd5', 'https://lichess.org/training/rjcAZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjcbb', 'Rapid', 'Isaacus_Neutonuus', 1913, 'TeNBiG', 1886, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,O-O,Qc7,Be3,Nbd7,Bxe6,fxe6,Nxe6,Qc6,Nxg7+,Kf7,Nf5,Ne5,f4,Bxf5,fxe5,Bxe4,Nxe4,Qxe4,exf6,Bxf6,Qxd6,Qxe3+,Kh1,Qg5,Rae1,Rae8', 'Qd7+,Kg6,Rxe8,Rxe8,Qxe8+', 'https://lichess.org/training/rjcbb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RjCEz', 'Rapid', 'FrankT123', 1929, 'King7BQ', 1705, 'e4,c5,Bc4,Nc6,Nf3,e6,a3,g6,c3,Bg7,O-O,Nge7,d4,cxd4,cxd4,O-O,d5,exd5,exd5,Na5,Ba2,d6,h3,b6,Re1,Re8,Nc3,Bd7,Bg5,f6,Bh4,g5,Bg3,Qc7,Nd4,Ng6,Ndb5,Bxb5,Nxb5,Qd7,Nxd6,Red8,Ne4,h6,Rc1,f5,Nd2,f4,b4,Nb7,d6+,Kh7,Rc7,Qxd6,Rxb7,fxg3,fxg3,Qxd2,Qa1,Rg8,Bb1,Qxe1+,Kh2,Rad8', 'Bxg6+,Kxg6,Qxe1', 'https://lichess.org/training/RjCEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rJcGt', 'Rapid', 'JoJack', 1925, 'ItouKaiji', 1791, 'd4,Nf6,Nc3,e6,a3,c5,d5,exd5,Nxd5,Nxd5,Qxd5,d6,e4,Bd7,Qxb7,Bc6,Bb5', 'Qa5+,b4,Qxb5', 'https://lichess.org/training/rJcGt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjCJr', 'Rapid', 'RookFianchetto', 2158, 'maskoes', 2155, 'e4,g6,d4,Bg7,Be3,d6,Nc3,Nd7,Qd2,c6,O-O-O,a6,f4,b5,Nf3,h6,f5,g5,h4,f6,hxg5,hxg5,Rxh8,Bxh8,Nh2,Qa5,Kb1,Bb7,Qe2,O-O-O,Qh5,Bg7,Qg6,Bh6,Ng4,b4,Ne2,c5,Nxh6,Nxh6,Qxh6,Bxe4,Ng3,Bxc2+,Kxc2,Qxa2,dxc5,b3+,Kc3,dxc5,Bc4', 'Qa5+,Kxb3,Qb4+', 'https://lichess.org/training/rjCJr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RjCY6', 'Blitz', 'CoRuJ4', 2307, 'paupin', 2326, 'd4,Nf6,c4,g6,Bg5,Bg7,Nc3,O-O,Nf3,d6,e3,c5,Be2,Bg4,h3,cxd4,exd4,Bxf3,Bxf3,Nc6,O-O,Qb6,Be3,Qxb2,Qd3,Qa3,Rab1,Rab8,Rb3,Qa6,Rfb1,Na5,Ra3,Qxc4,Qxc4,Nxc4,Rxa7,Rfc8,Nd5,Nxd5,Bxd5,e6,Bxc4,Rxc4,Rbxb7,Rxb7,Rxb7,Bxd4,Bh6,Rc8,g4,Bg7,Bg5,h6,Be3,Ra8,a4,Rxa4,Rb8+,Kh7,Rb7,Ra1+,Kg2,d5,Rxf7,Kg8', 'Rxg7+,Kxg7,Bd4+,Kf8,Bxa1', 'https://lichess.org/training/RjCY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjDMN', 'Rapid', 'jipavl', 2006, 'sam7neeee', 1881, 'd4,d5,c4,dxc4,Nf3,e6,e4,a6,Bxc4,b5,Bd3,Bb7,O-O,c6,Nc3,Qc7,Be3,Nd7,Rc1,Qb8,Qd2,Bd6,d5,cxd5,exd5,exd5,Bd4,Ngf6,Rfe1+,Kf8,Nh4,Bxh2+,Kh1,Bf4,Qe2,Bxc1,Qe7+,Kg8,Rxc1,Ng4,Nf3,h5,Qxd7,Qc8,Qd6,Rh6,Qf4,Qd7,Ne5,Qe7,Nxg4,hxg4+,Kg1,Qh4,f3,Qh1+,Kf2,g3+,Kxg3', 'Qh2+,Kf2,Qxf4', 'https://lichess.org/training/rjDMN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjEGd', 'Blitz', 'gercondon', 1924, 'jh72jh72', 1900, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,O-O,c3,e6,e4,d6,Bd3,Qe8,Qe2,e5,h4,Bg4,O-O-O,Nc6,Nf1,exd4,cxd4,Nxd4,Qe3,Nxf3,gxf3,Be6,Bxf6,Bxf6,h5,Bxa2,hxg6,Qc6+,Bc2,fxg6,Qh6,Rf7,Ne3,Qb6,Nd5,Qxb2+,Kd2,Bxd5,exd5,Bc3+,Ke2,Re8+,Kf1,Qxc2,Kg2,Re2,Rdf1,Bd4,Qh4,Be5,Qd8+,Kg7', 'Rxh7+,Kxh7,Rh1+,Bh2,Rxh2+,Kg7,Qh8#', 'https://lichess.org/training/rjEGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjeHF', 'Rapid', 'igor_mandau', 1785, 'phips55', 1749, 'e4,e5,Bc4,Nc6,Qh5,Nh6,d4,exd4,Bxh6,g6,Qh3,Bxh6,Qxh6,d5,exd5,Qe7+,Ne2,Bg4,f3,Bh5,g4,Bxg4,fxg4,d3,cxd3,Nd4,Nc3,O-O-O,Qd2,Nf3+,Kd1,Nxd2,Kxd2,h5,Nb5,Kb8,a4,hxg4,a5,a6,Nbd4,Qg5+,Kc3,f5,b4,f4,b5,f3,bxa6,fxe2,axb7,Kxb7,a6+,Ka7,Nc6+,Ka8,Nxd8,Rxd8,Rhe1,g3,hxg3,Qxg3,Rxe2,g5,Re7,g4,Rxc7,Qxc7,Rb1,Rxd5,Kd2,Rg5,Rc1,Ka7,Rf1,Qa5+,Kc2,Rg7,Rb1,g3,Rb5,Qxa6,Rb1,Qa2+', 'Bxa2,g2,Rg1', 'https://lichess.org/training/rjeHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rJfhW', 'Rapid', 'Dikiy384', 1947, 'coronation', 2229, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Be3,e6,Be2,Be7,f3,O-O,g4,b5,Qd2,Bb7,h4,Nfd7,O-O-O,b4,Na4,d5,exd5,Bxd5,Nb3,Bxb3,axb3,Qc7,g5,Rc8,Bd3,Nc5,h5', 'Nxb3+,Kb1,Nxd2+', 'https://lichess.org/training/rJfhW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RjFkt', 'Classical', 'bashdriller', 1825, 'Beautiful-sea', 1816, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Bc4,Nf6,Nc3,Be7,O-O,Bd7,f4,Bg4,Qd2,d5,exd5,Nxd4,Qxd4,O-O,h3,b6,Qd3,Bc5+,Be3,Bxe3+,Qxe3,Bf5,Rac1,Re8,Qf3,Be4,Nxe4,Nxe4,Rcd1,Qf6,c3,a6,Bd3,Nd6,Qh5,g6,Qh6,Nf5,Bxf5,Qxf5,Qg5,Qc2,Rb1,Re2,f5,h6,Qg4,Rae8,fxg6,f5,Qg3,R8e3,Qh2,f4,Rfc1,Qe4,Rf1,f3,Qxc7,Rxg2+,Kh1,Rh2+,Qxh2', 'f2+,Qg2,Rxh3#', 'https://lichess.org/training/RjFkt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rJGi3', 'Rapid', 'caguevara7', 1762, 'raytrout', 1889, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bb5,Bc5,d4,exd4,Nxd4,O-O,Bxc6,bxc6,f3,Qf6,c3,Nd6,Kh1,Nf5,Nb3,Bb6,Bf4,Ba6,a4,Bc4,N3d2,Rad8,a5,Bf2,Re5,Rfe8,Nxc4,dxc4,Rxe8+,Rxe8,Na3,Re1+,Qxe1,Bxe1,Rxe1,g5', 'Re8+,Kg7,Be5,Qxe5,Rxe5', 'https://lichess.org/training/rJGi3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjGtw', 'Rapid', 'gutin82', 1819, 'Sergioemilio7', 1903, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nc6,Nf3,a6,Nc3,Nf6,h3,d6,a3,Be7,Bd3,O-O,Bc2,b5,O-O,Bb7,Qd3,Ne8,e5,f5,exf6,Nxf6,Bg5,g6,Rfe1,Bc8,Re3,b4,Na2,Rb8,Bb3,d5,Rae1,bxa3,bxa3,Na5,Bc2,Ne4,Bxe7,Qxe7,Ne5,Qf6,Rf3,Qg7,Rxf8+,Qxf8,f3,Nd6,Nb4,Nac4,Nec6,Rxb4,Nxb4,a5,Nc6,Bd7,Ne5,Nxe5,Rxe5,Nc4,Re1,Qf4,Bb3,Qg3,Re2,Nd6,Qa6,Bb5,Qa8+,Kg7,Rxe6,Nf5,Qc8,Nh4,Qc2', 'Nxf3+,Kh1,Qh2#', 'https://lichess.org/training/rjGtw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjifr', 'Rapid', 'jose223', 1795, 'alchemin', 1772, 'e4,g5,d4,h6,Nc3,Bg7,f4,e6,Qh5,Nf6,Qd1,Nh7,fxg5,hxg5,Be3,Nc6,d5,Ne5,dxe6,fxe6,Qh5+,Nf7,O-O-O,Bxc3,bxc3,d6,Bd3,e5,Bc4,Qe7,Nf3,Nf6', 'Bxf7+,Qxf7,Qxh8+,Qf8,Qxf8+', 'https://lichess.org/training/rjifr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjIST', 'Rapid', 'Alex19_x', 1830, 'Val1982', 1858, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,Bc5,c3,O-O,d4,exd4,cxd4,Bb6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,d6,Qf3,Bxd4,e5,Bxe5,Qxc6,Bd7,Qc2,Be6,Nd2,Bxb3,axb3,Kg7,Ne4,Rh8,f4,Bd4+,Kh1,Ng4,Bxd8', 'Rxh2#', 'https://lichess.org/training/rjIST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjjb0', 'Rapid', 'Isabel-Ayuso', 2261, 'Bigboobies442', 2129, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,h3,Nf6,Re1,O-O,c3,Re8,d4,exd4,cxd4,Bb4,Bd2,Rxe4,Rxe4,Nxe4,Bxf7+,Kxf7,Bxb4,Nxb4,Qb3+,d5,Qxb4,Qf6,Nc3,c6,Nxe4,dxe4,Ne5+,Kg8,Qb3+,Qe6,Qxe6+,Bxe6,Re1,Bd5,a3,Rd8,b4,a5,bxa5,Ra8,Rb1,Rxa5,Rxb7,h6,Rc7,Rxa3,Nxc6,Kh7,Ne7,Ba2,d5,Rd3,Rd7,h5,d6,Be6,Rd8,Rd1+,Kh2,Kh6,h4,Kh7,Kg3,Rd2,Nc6,Kg6,d7,Rd6,Nb8,Rd2,Rf8,Bxd7,Rd8,Rd3+,Kf4,Bf5,Rxd3,exd3,Ke3,Kf6,Nc6,d2,Kxd2,Be4,Nd4,Bxg2,f3,Ke5,Ke3,Kd5,Ne2,Kd6,Kf2,Bh1', 'Ng3,Ke5,Nxh1', 'https://lichess.org/training/rjjb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjJcF', 'Rapid', 'amirhossien_1382', 1938, 'eliasportolu', 1991, 'd4,e6,Nf3,d5,Bf4,Nf6,e3,c5,c3,Nc6,Bd3,h6,Ne5,Nxe5,dxe5,Nd7,Nd2,c4,Bc2,Qc7,Ba4,a6,Bxd7+,Bxd7,Bg3,b5,Nf3,a5,Nd4,b4,cxb4,axb4,O-O,Be7,f4,Qc8,Qc2,O-O,Be1,Ba4,b3,Bxb3,Nxb3,cxb3,Qxb3,Ra3,Qb2,Rxe3,Bxb4,Bxb4,Qxb4,Re4,Qb3,Qc4,Qxc4,Rxc4,Rac1,Rfc8,Rxc4,Rxc4,g3,Kf8,Rb1,d4,Rb2,d3,Kf2', 'Rc2+,Ke3,Rxb2', 'https://lichess.org/training/rjJcF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RJkC8', 'Classical', 'jack1942', 1966, 'Cerpali', 1890, 'e4,c5,c4,Nc6,Nc3,d6,g3,e5,Bg2,Nf6,Nge2,Be7,O-O,Bg4,h3,Be6,d3,Qc8,Kh2,h5,f4,exf4,gxf4,g6,Nd5,Bxd5,exd5,Nb8,b3,Ng4+,Kg1,Bf6,Rb1,Nh6,Bb2,Bxb2,Rxb2,Nf5,Qe1,O-O,Qf2,Qd8,d4,Qf6,Rd2,Nd7,dxc5,Nxc5,Nd4,a5,Nb5,Rae8,Re1,Re7,Rxe7,Qxe7,Qe2,Re8,Qxe7,Rxe7,Kf2,Kg7,Re2', 'Nd3+,Kg1,Rxe2', 'https://lichess.org/training/RJkC8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RJkcK', 'Classical', 'huge35', 1646, 'IgorKrutoi', 1659, 'e4,g6,d4,Bg7,Nf3,d5,e5,f6,c4,Be6,Nc3,dxc4,Qa4+,Qd7,d5,Bxd5', 'Qxd7+,Nxd7,Nxd5', 'https://lichess.org/training/RJkcK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rJkOK', 'Rapid', 'momo_klaus', 1960, 'JZVRN', 1904, 'e4,d6,d4,b6,Bd3,c5,d5,e5,dxe6,Bxe6,Bb5+,Bd7,Qd5,Bxb5,Qxa8,Qc7,Qd5,Nf6,Qf5,Be7,Nc3,Bd7,Nd5,Qd8,Qg5,O-O,Nxe7+,Qxe7,Nf3,Qxe4+,Be3,Bb5,O-O-O,d5,Rhe1,Qa4,Kb1,d4,Bc1,Nc6,a3,d3,c3,Ne4,Qh4,g5,Qxe4,Qxe4,Rxe4,f5,Re6,g4,Ne5,Na5,Nxd3,Rd8,Kc2,Ba4+,Kd2,c4,Rde1,Rxd3+,Ke2,Nb3,Kf1,Nc5,R6e5,Bd7,R5e3,Rd5,Re7,Nd3,Rd1,Ba4,Rd2,Kf8,Rxa7,Re5,Rxd3,cxd3,Rxh7,Bd1,h3,Be2+,Kg1,Rd5,Bd2,gxh3,gxh3,Bf3,Kh2,Re5,Kg3,Bd5,Be3', 'Rxe3+,fxe3,d2', 'https://lichess.org/training/rJkOK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rJl0T', 'Blitz', 'grepakar', 1834, 'yholger', 1524, 'd4,Nf6,c4,e5,Nc3,exd4,Qxd4,Nc6,Qd1,d6,Nf3,Bf5,e3,Be7,Bd3,Bxd3,Qxd3,Nb4,Qd1,c5,a3,Nc6,Nd5,O-O,O-O,Nxd5,cxd5,Ne5,b3,Qb6,Bb2,Nxf3+,Qxf3,c4,Qg3,f6,Rab1,cxb3,e4,Rac8,Ba1,Rc2,Rxb3,Qc5,Rxb7,Rc1,Rb1,Rxf1+,Rxf1,Qc2,Qe3,Rb8,g3,Rb3,Qxa7,Kf7,Bd4,Rf3,Qd7,Rxa3,Qe6+,Kf8,g4,Qe2,g5,Ra4,Be3,fxg5,Qf5+,Ke8,Rb1,Rxe4,Rb8+,Bd8,Rxd8+,Kxd8,Qf8+,Kd7,Qf7+,Kd8', 'Bb6+,Kc8,Qc7#', 'https://lichess.org/training/rJl0T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RJlaz', 'Rapid', 'RJzeDD', 2011, 'OctopusYule', 2160, 'd4,Nf6,c4,e6,Nf3,d5,e3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,cxd5,exd5,Bd3,Nbd7,Rc1,c6,O-O,Re8,b4,Ne4,Qc2,Ndf6,h3,Qb6,Rb1,a5,b5,c5,Bxe4,Nxe4,Nxe4,Rxe4,dxc5,Qg6,Kh2,Bf5,Nd4', 'Rxd4,Qxf5,Qxf5', 'https://lichess.org/training/RJlaz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rjlqy', 'Blitz', 'chessprincegod', 1915, 'Jakesin', 1913, 'd4,d5,Bf4,Nf6,e3,Bf5,Bd3,Nc6,Bxf5,e6,Bd3,Bd6,Bg3,O-O,Nf3,h5,O-O,Re8,Ne5,Ng4,Nxc6,bxc6,Nd2,f5,Be2,Bxg3,hxg3,Qg5,Nf3,Qg6,Ne5,Nxe5,dxe5,Qg5,Bxh5,g6,Bf3,Kg7,Qd4,Rh8,Rfe1,Rab8,b3,a5,Qf4,Qe7,a3,c5,g4,g5,Qa4,Ra8,gxf5,exf5,Bxd5,Rad8,c4,g4,Qxa5,Qxe5,Kf1,c6,Qa7+,Kg6,Qf7+,Kg5,Bxc6', 'Rh1+,Ke2,Qb2#', 'https://lichess.org/training/Rjlqy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RjLzc', 'Blitz', 'renat_mamedov_1984', 2092, 'ADRITOSARKAR', 1931, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,Nc6,Nbd2,e6,Be2,Bd6,Ne5,O-O,Ndf3,Ne4,g4,Bg6,h4,f6,Nxg6,hxg6,g5,fxg5,Bxg5,Nxg5,Nxg5,Qf6,f4,e5,dxe5,Bxe5,Qxd5+,Kh8,fxe5,Qf2+,Kd2,Rad8,Nf7+,Qxf7,Qxd8,Rxd8+,Bd3,Nxe5,Raf1,Qd5,h5,Nxd3,hxg6+,Kg8,cxd3,Qxd3+,Kc1,Rd6', 'Rh8+,Kxh8,Rf8#', 'https://lichess.org/training/RjLzc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RJnKd', 'Blitz', 'Crest32x2', 2442, 'NM Kanthecarowin', 2441, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bc4,e6,O-O,Ngf6,Re1,Be7,Qe2,Nb6,Bb3,Nbd5,c4,Nc7,Bg5,O-O,Rad1,h6,Bd2,Re8,Bc3,b5,cxb5,cxb5,Ne5,b4,Nxg6,bxc3,Nxe7+,Qxe7,bxc3,Rad8,c4,a5,Ba4,Rf8,Ne4,Nxe4,Qxe4,Qa3,Qc6,Na6,Qxa6,Qxa4,Rd2,Ra8,Qb5,Qa3,c5,Rfb8,Qd3,Qb4,h3,Rd8,Red1,Rac8,Qb3,Rd5,Qxb4,axb4,Rb1,Rcxc5,Rxb4,Rc1+,Kh2,e5,a4,Ra1,f3,f6,Kg3,Kh7,Kf2,Kg6,Ke3,Ra3+,Ke2,exd4,Kf2,d3,Ke3,f5,f4,Rd6,g4,Re6+,Kf3,Re2,Rb6+,Kh7,Rxe2', 'd2+,Kg2,d1=Q', 'https://lichess.org/training/RJnKd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RJPkB', 'Blitz', 'matematichi', 1901, 'guiye1943', 1593, 'e4,e5,Bc4,Nf6,d4,exd4,Qxd4,Nc6,Qd3,d6,Nf3,Be7,O-O,Bg4,Bg5,Bxf3,Qxf3,Ne5,Qb3,Nxc4,Qxc4,O-O,Nc3,Rc8,Rab1,h6,Bh4,Re8,f4,c6,Bxf6,Bxf6,Rbd1,Bxc3,Qxc3,Rxe4,Rd3,Qc7,Rg3,f5,Qf6,Qb6+,Kh1,Qd4', 'Rxg7+,Kh8,Qxh6#', 'https://lichess.org/training/RJPkB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RjPqM', 'Rapid', 'ChainSmoke', 1733, 'marcdavi-es', 1736, 'g3,e5,Bg2,d5,d3,Nf6,c4,c6,Qc2,Bc5,e3,Bb6,Nc3,Ba5,Ne2,d4,exd4,exd4,b4,Bxb4,Nxd4,Qe7+,Be3,Ng4,O-O', 'Nxe3,fxe3,Qxe3+,Kh1,Qxd4', 'https://lichess.org/training/RjPqM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjqx3', 'Rapid', 'TennisGuy11', 1687, 'Supersanic', 1938, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,Nc6,Nf3,Be7,Bd3,O-O,Bf4,f6,Bc2,Bd6,Bxd6,cxd6,Qd3,e5,Bb3+,Kh8,d5,Ne7,O-O,Ng6,Rfc1,Nf4,Qd2,Bg4,Ne1,g5,Bc4,Rc8,Bf1,a6,g3,Nh3+,Kh1,Qb6,Nd3,f5,exf5,Rxf5,Rab1,Nxf2+,Nxf2,Qxf2,Qxf2,Rxf2,Rxb7,Rcf8,Bxa6,Rxa2,Bd3,Bf5,Rf1,Be4+,Kg1,Rxf1+,Bxf1,Ra1,Rb8+,Kg7,Kf2,Bxd5,Rd8,Ra3,Rxd6,Bf7,Rd3,e4,Re3,Ra2+,Re2,Rxe2+,Bxe2,Kf6,Ke3,Ke5,c4,h6,c5,Bd5,Bb5,h5,c6,Kd6,Kd4,e3,Kxe3,Bxc6', 'Bxc6,Kxc6,Ke4', 'https://lichess.org/training/rjqx3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RjRii', 'Rapid', 'Princeshady', 1700, 'chapdcf', 1745, 'e4,b6,d4,Bb7,Nc3,e6,Be3,Bb4,Bd3,Ne7,a3,Bxc3+,bxc3,Ng6,Nf3,Nh4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/RjRii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjS89', 'Rapid', 'dilima91', 1936, 'psylocybingLSD', 1948, 'e4,e6,f4,d5,exd5,exd5,d4,c5,Nf3,Bg4,Be2,Bxf3,Bxf3,cxd4,Qxd4,Nf6,O-O,b6,Nc3', 'Bc5,Qxc5,bxc5', 'https://lichess.org/training/rjS89');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjshT', 'Rapid', 'Supernezh71', 2108, 'Ettorino1', 1894, 'e4,e5,Nc3,d6,g3,Be7,Bg2,Nf6,Nge2,Nc6,h3,a6,d3,Be6,Be3,Qd7,Qd2,h6,f4,exf4,Nxf4,Ne5,Nxe6,fxe6,Ne2,Nh5,O-O-O,O-O-O,g4,Nf6,Qa5,Nc6,Qc3,e5,Qb3,d5,exd5,Nxd5,Bd2,Bg5,Be4,Ne3,Rde1,Rhf8,Bxe3,Bxe3+,Kb1,Kb8,Nc3,Bd4,Nd5,Ba7,c3,Rf2,Rhf1,Rdf8,Rxf2,Rxf2,Nb4,Nxb4,Qxb4,Bb6,Bf5,Qd6,Qb3,g5,Qg8+,Ka7,Qe8,Rf3,Qxe5,Qxe5,Rxe5,Rxh3,d4,Rf3,Re6,h5,Be4,Rf1+,Kc2,hxg4,d5,g3,d6,cxd6,Re7,Rf2+,Kb3,Kb8', 'Rxb7+,Kc8,Rxb6', 'https://lichess.org/training/rjshT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RjSkY', 'Rapid', 'Khasic', 2148, 'aliaziznodir', 1910, 'g3,d5,Bg2,e5,c4,c6,cxd5,cxd5,Qb3,Nf6,Nc3,d4,Bxb7,Bxb7,Qxb7,Nbd7,Nb5,Rb8,Nc7+,Ke7,Qxa7,Kd6,b3,Qxc7', 'Ba3+,Nc5,Bxc5+', 'https://lichess.org/training/RjSkY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rjvhe', 'Blitz', 'Egidijus1969', 2010, 'zpatt', 2028, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,Re1,Nc5,Bxc6,dxc6,Nxe5,Ne6,d4,Bd6,c4,O-O,f4,f6,c5,fxe5,cxd6,exf4,dxc7,Nxc7,Nc3,Be6,Qf3,Qxd4+,Kh1,Rae8,Re4,Bd5,Rxd4', 'Re1+,Qf1,Rxf1#', 'https://lichess.org/training/Rjvhe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RJvi3', 'Rapid', 'diwani', 1810, 'Banana79', 1909, 'e4,e5,Bc4,Nc6,Nf3,Bc5,d4,exd4,Ng5,Nh6,Qf3,O-O,Nxh7,Kxh7,Bxh6,Kxh6,Qh3+,Kg6,Qf5+,Kh6,g4,Qf6', 'Qh5#', 'https://lichess.org/training/RJvi3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rJw64', 'Rapid', 'JoshuaPau', 1774, 'lbtns', 1885, 'e4,c5,Nf3,d6,Nc3,Bg4,h3,Bh5,Bb5+,Nc6,d4,cxd4,Qxd4,a6,Ba4,Nf6,Ng5', 'b5,Bxb5,axb5', 'https://lichess.org/training/rJw64');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjWps', 'Classical', 'E-P-Geller', 1676, 'AlexanderFunkKing', 1654, 'Nc3,e5,e3,a6,Qh5,Qf6,Nd5,Qd6,Bc4,g6,Qf3,f6,a4,Nc6,c3,Nce7,b3,Nxd5,Bxd5,c6,Ba3', 'Qxd5,Qxd5,cxd5,Bxf8,Kxf8', 'https://lichess.org/training/rjWps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rjWUi', 'Blitz', 'Retza', 1664, 'UNLEASHED2517', 1669, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bb5,Bd7,Nxc6,bxc6,Bc4,e6,Bg5,Be7,O-O,O-O,Re1,h6,Bh4,Qb6,Bb3,Rfe8,Bxf6,Bxf6,Qxd6,Rad8,e5,Be7,Qd3,Bc5,Na4,Bxf2+,Kf1,Qd4,Qxd4,Bxd4,Re4,Bc8,c3,Bb6,Nxb6,axb6,Rb4,b5,a4,Ba6,axb5,Bxb5+,c4,Bxc4+,Bxc4,Rd2,b3,Red8,Rba4,R8d4,Ra8+,Kh7,Rf8,Rf4+,Ke1,Rdd4,Rc8,Rfe4+,Be2,Rxe5,Rxc6,Rb4,Rc3,Kg6,Kf1,Rf4+,Bf3,Rb4,Ra4,Rb6,b4,Reb5,Rc4,Kf6,Bc6,Rf5+,Bf3,Rfb5,Kg1,g5,Bc6,Re5,b5,Re1+,Kf2,Rb1,h3,Ke5,Kg3,f5,Rc5+,Kf6,Ra8,Rb3+,Kh2,Ke7,Re8+,Kd6,Rc2,f4,Rh8,Ke5,Rxh6,Kf5,Rc5+,e5,Rh8,g4,Re8', 'g3+,Kg1,Rb1+,Rc1,Rxc1#', 'https://lichess.org/training/rjWUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rJZNK', 'Classical', 'ChePushilo', 1620, 'Sekarputihpint4r', 1642, 'd4,d5,c4,Nf6,Nc3,e6,e3,Bb4,Qa4+,Nc6,cxd5,Nxd5,Bd2,Bxc3,Bxc3,Nxc3,bxc3,Qd5,Nf3,O-O,Bc4,Qa5,Qxa5,Nxa5,Bb3,Bd7,O-O,Bc6,Ne5,Rad8,c4,Be4,c5,Nxb3,axb3,a6,b4,Bd5,Rfb1,f6,Nd3,Be4,Rd1,Bxd3,Rxd3,c6,f4,h6,g4,Rd7,e4,Rfd8,Rad1,Kh7,f5,exf5,gxf5,Re8,e5,Red8,e6,Rd5,e7,Re8,Re1,Rxf5,Re6,Rd5,Rf3,Rxd4,Rfe3,Rxb4,Rd6,Rg4+,Kf2,Rf4+', 'Kg3,Rc4,Rd8,Rxe7,Rxe7', 'https://lichess.org/training/rJZNK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rK0Af', 'Classical', 'etiennej', 1605, 'Qveen_Sacrifice', 1721, 'e4,Nc6,d4,e5,d5,Nce7,Bg5,h6,Bh4,f6,Nf3,Ng6,Nc3,Bb4,Qd3,Nf4,Qc4,Bxc3+,Qxc3,d6,Bb5+,Bd7,Bf1,g5,Bg3,Ng6,Qb4,h5,h3,g4,hxg4,hxg4,Nh4,f5,exf5,Bxf5,Qxb7,Rb8,Bb5+,Bd7,Bxd7+,Kxd7,Qc6+,Kc8,O-O-O,Nxh4,Bxh4,Rxh4,Rxh4,Qxh4,Qe8+,Kb7,Qb5+,Kc8,Qa6+,Rb7,g3,Qg5+,Kb1,Ne7,Rd3,Kb8,Qa4,Qh5,a3,Qh1+,Ka2,Qh8,Qd7,e4,Rc3,Nxd5,Rb3,Rxb3,cxb3,e3,fxe3,Nxe3,Qb5+,Kc8,Qa6+,Kd7,Qxa7,Nd1,Qa4+,c6', 'Qxg4+,Kc7,Qxd1', 'https://lichess.org/training/rK0Af');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rk5cp', 'Rapid', 'acratamedieval', 2078, 'wild_elephant', 2021, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Nf3,Bg4,Be2,Bxf3,Bxf3,e6,O-O,Nge7,Be3,Nf5,Na3,cxd4,cxd4,Qb6,Qd2,Nfxd4,Bxd4,Nxd4,Bd1,Nc6,Be2,Bxa3,bxa3,Nxe5,Rab1,Qc7,Rfc1,Nc6,Bb5,O-O,Rb3,a6,Bd3,Qd7,Qg5,Rfc8,Bxh7+,Kxh7,Rh3+,Kg8,Qh5,Kf8,Qh8+,Ke7,Qxg7,Rg8,Qh6,Rac8,f4,Nd4,Re1,Nf5,Qh5,Rc2,Qxf5,Rgxg2+,Kh1,Kd8,Rh8+,Kc7,Qe5+,Qd6,Rc8+,Kd7', 'Rd8+,Kxd8,Qxd6+', 'https://lichess.org/training/Rk5cp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rk6qe', 'Rapid', 'diegodon', 2206, 'ShaunTracey', 2010, 'd4,e6,e4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,b6,Ndf3,Be7,Bd3,Ba6,Ne2,Bxd3,Qxd3,Nc6,O-O,g6,Be3,f5,exf6,Nxf6,Ne5,Nxe5,fxe5,Ne4,Bh6,Kd7,Qb5+,Kc7,dxc5,bxc5,Rf7,Qd7,Qa5+,Kb7,b4,c4,Nd4,a6,b5,Rhe8,Rb1,Kc8,bxa6,Ra7,Nb5,Bc5+,Kh1,Qxf7,Nxa7+,Qxa7', 'Rb7,Re7,Rxa7', 'https://lichess.org/training/rk6qe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rK7cA', 'Blitz', 'moonjack', 1691, 'kingbatil', 1639, 'e3,e5,d4,exd4,exd4,Nf6,Nf3,b6,Bd3,Bb7,O-O,d6,Nbd2,Nbd7,c3,Be7,Re1,O-O,b4,Nd5,Qc2,Bf6,a4,Re8,a5,Rxe1+,Nxe1,g6,Bb2,Qe7,Nef3,Re8,axb6,axb6,Ra7,Ba8,Qa4,Nf4,Bb5,Bxf3,Nxf3', 'Qe1+,Nxe1,Rxe1+,Bf1,Ne2+,Kh1,Rxf1#', 'https://lichess.org/training/rK7cA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rk9kb', 'Rapid', 'doctor2525', 2015, 'SMRKH', 2057, 'e4,g6,d4,Bg7,Nc3,d6,Nf3,Bg4,Bc4,Bxf3,Qxf3,e6,d5,Qf6,Qh3,Nd7,dxe6,fxe6,Bxe6,Nc5,Nd5,Qxe6', 'Nxc7+,Kf7,Nxe6', 'https://lichess.org/training/rk9kb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rk9NF', 'Blitz', 'HeinBl0ed', 1734, 'Willich', 1749, 'e4,d6,Nc3,Nf6,Bc4,g6,d3,Bg7,f4,O-O,Nf3,Bg4,O-O,Bxf3,Qxf3,c5,f5,Nc6,Nd5,Nd4,Qf2,Ng4,Qh4,Ne5,Bg5,Nxc4,Nxe7+,Kh8,Nxg6+,fxg6,Bxd8,Raxd8,dxc4,Nxc2,fxg6,h6,Rxf8+,Rxf8,Rf1', 'Bd4+,Rf2,Bxf2+,Qxf2,Rxf2', 'https://lichess.org/training/rk9NF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RkA5n', 'Rapid', 'AkalBudiCom', 1755, 'papagiannis', 1719, 'd4,d5,c4,dxc4,Qa4+,Nc6,Qxc4,Qxd4,Nd2,Qxc4,Nxc4,b6,Bf4,Nd4,O-O-O,Ne6,Nf3,Bb7,g3,c5,Bh3,Nxf4,gxf4,Nf6,Rhe1,Ne4,Bd7+,Kd8,Bc6+,Kc7,Bxb7,Kxb7,Rd7+,Kc6,Red1,Nxf2,Nce5+,Kb5,Rf1,Ne4,Kc2,f6,a4+,Kxa4,Ra1+,Kb5,b4,fxe5,Nxe5,e6,bxc5,Bxc5,Rb1+,Ka5,Nc4+,Ka4,Rd3,Rac8,Rdb3,Nd6', 'Ra1+,Ba3,Raxa3#', 'https://lichess.org/training/RkA5n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rKaqK', 'Rapid', 'TR77', 2020, 'komle', 1871, 'Nf3,c5,g3,Nc6,Bg2,e6,c4,d5,cxd5,exd5,d4,c4,O-O,Nf6,b3,cxb3,Qxb3,Be7,Nc3,O-O,Bg5,Na5,Qc2,Be6,Ne5,Ng4,Bxe7,Qxe7,Bxd5,Nxe5,dxe5,Bxd5,Nxd5,Qxe5,Qc5,Nc6,e4,Qxe4,Rae1,Qd4,Ne7+,Kh8,Qh5,Nxe7,Rxe7,Qf6,Rfe1,Rab8,h4,Kg8,Qd5,Rfd8', 'Qxd8+,Rxd8,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/rKaqK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rkB0z', 'Classical', 'austro', 1798, 'morphyfight', 1772, 'Nf3,Nf6,d4,e6,g3,d5,Bg2,c5,c3,b5,O-O,b4,Bg5,Be7,Nbd2,bxc3,bxc3,cxd4,cxd4,Bb7,Bxf6,Bxf6,e3,O-O,Qb3,Ba6,Rfe1,Nc6,Rec1,Rb8,Qa3,Bc4,Nxc4,dxc4,Rxc4,Ne7,Rac1,Qb6,Qc5,Qb2,a4,a6,Ne5,Rbc8,Qa5,Rxc4,Rxc4,Bxe5,Qxe5,Ng6,Qc7,h6,Rc5,Qe2,Bf1,Qd1,Rc1,Qxa4,Qb7,Qa3,Rc6,a5,Ra6,Ne7,Qb5,Nd5,Rxa5,Qe7,Bg2,Rd8,Qc5,Qb7,Ra7,Qb1+,Bf1,Qb2,Qa3,Qc2,Bd3,Qd1+,Kg2,Nf6,h3,Qd2,Rc7,Nd5,Rc2', 'Nxe3+,Kf3,Nxc2', 'https://lichess.org/training/rkB0z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rkb3O', 'Rapid', 'Kn1ghtRen', 1696, 'molethe', 1735, 'd4,d5,Nf3,e6,e3,c5,c3,Nc6,Bd3,a6,O-O,c4,Bc2,Nf6,Nbd2,Bd6,Qe2,Qc7,e4,dxe4,Nxe4,b5,Nxd6+,Qxd6,a4,Bb7,Bg5,Ng4,h3', 'Nxd4,cxd4,Bxf3,hxg4,Bxe2', 'https://lichess.org/training/Rkb3O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RkbCW', 'Blitz', 'santichess88', 1508, 'centodue', 1513, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,Be3,e6,Qd2,Re8,O-O-O,d5,exd5,exd5,Bb3,Be6,h4,Nbd7,Rdg1,c5,a3,c4,Ba2,b5,Kb1,b4,axb4,Rb8,g4,Qb6,b5,Ne4,Nxe4,dxe4,Ne5,Nxe5,dxe5,Qxb5,Qc1,c3,b3,Bxe5,h5,f6,hxg6,hxg6,Bh6,g5,Bxg5,fxg5,Qxg5+,Kf7,Rh7+,Kf8,Qh6+,Kg8,Qg6+,Kf8,Rgh1,Re7', 'Rh8+,Bxh8,Rxh8+,Bg8,Rxg8#', 'https://lichess.org/training/RkbCW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RkBTq', 'Rapid', 'adrianio02', 1751, 'symon23', 1767, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,O-O,Nf6,Nc3,Nd4,fxe5,dxe5,d3,Nxf3+,Rxf3,Qd4+,Be3,Bxf3,Qxf3,Qd6,Nb5,Qd7,Nxa7,b6', 'Bb5,Rxa7,Bxd7+', 'https://lichess.org/training/RkBTq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RKdMO', 'Classical', 'g4lois', 1749, 'daniel01010101', 1690, 'd4,d5,c4,dxc4,e4,Nc6,Nf3,Bg4,Be3,b5,Be2,Nf6,h3,Bh5,g4,Bg6,e5,Ne4,Nc3,e6,Nxb5,Bb4+,Kf1,a6,Na3,c3,Nc2,cxb2,Rb1,Nc3,Qe1,Bxc2,Rxb2,Be4,Rxb4,Nxe2,Kxe2,Bxf3+,Kxf3,Nxb4,Qxb4,Qd5+,Kg3,Qxh1,Bg5,Kd7,Qe7+,Kc6,Qc5+,Kb7,Qb4+,Kc8,Be7,Qb7,Qc5,Qb6,Qc3,Kb7,Bc5,Qb5,Qf3+,c6,Qxf7+,Kc8,Qxe6+,Kb8,Qd6+,Kb7', 'Qd7+,Kb8,Bd6#', 'https://lichess.org/training/RKdMO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rKfM1', 'Blitz', 'fernandaady', 1623, 'AyoungTemz', 1634, 'e4,c5,Bc4,Nc6,Nf3,e6,a3,d5,exd5,exd5,Bb3,Be6,d3,Bd6,O-O,Bc7,Re1,Nge7,Bg5,Qd6,Bxe7,Nxe7,Nbd2,O-O,c4,d4,Bc2,Bg4,h3,Bh5,b4,b6,Ne4,Qf4,Qe2,Bxf3,Qxf3,Qh2+,Kf1,f5,Ng5,Qd6,Ne6,Rfe8,Nxc7,Qxc7,bxc5,bxc5,a4,Qh2,Ke2,Nd5+,Kd1,Rxe1+,Kxe1,Re8+,Kd2,Nb4,Qxf5,Qxg2,h4,Nxc2,Kxc2', 'Re2+,Kb3,Qb7+,Ka3,Qb4#', 'https://lichess.org/training/rKfM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RkfP1', 'Rapid', 'SergFok', 1608, 'virgintiger', 1615, 'e4,c5,Bc4,e6,Nf3,Nf6,d4,Nxe4,O-O,cxd4,Qxd4,Nf6,Bg5,Be7,Nbd2,h6,Bh4,Nc6,Qc3,a6,Rfe1,b5,Bb3,Bb7,a3,Ng4,Bxe7,Qxe7', 'Qxg7,O-O-O,Qxg4', 'https://lichess.org/training/RkfP1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rKhpd', 'Rapid', 'el_phenomenius', 1829, 'El_matapollitos', 1803, 'e4,c6,d4,d5,e5,Bf5,c4,e6,Nc3,a6,cxd5,cxd5,a3,Nc6,Nf3,Nge7,Bg5,h6,Bxe7,Bxe7,Bd3,Bg4,Be2,Qb6,Na4,Qa5+,b4,Qc7,O-O,b5,Nc5,Bxc5,bxc5,Bxf3,Bxf3,g5,Rb1,Rb8,Qd2,Qa5,Qb2,Kd7,Bh5,Ke7,Rfd1,b4,axb4,Rxb4,Qc3', 'Rxb1,Qxa5,Rxd1+,Bxd1,Nxa5', 'https://lichess.org/training/rKhpd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rKHQy', 'Blitz', 'AlbertoCan12', 1534, 'Bgik_333', 1532, 'e4,c5,Bc4,e6,Nc3,b5,Bxb5,a6,Bc4,Nc6,d3,Nf6,Nf3,Be7,Bd2,O-O,O-O,h6,Qe2,Rb8,Rab1,Nd4,Nxd4,cxd4,e5,dxc3,exf6,cxd2,fxe7,Qxe7,Qxd2,d5,Bb3,a5,a3,Bd7,Qxa5,e5,Qxd5,Be6,Qe4,Bxb3,cxb3,Rxb3,Qc4,Rb7,b4,Ra8,Qc1,Rba7,Ra1,Qh4,Qc3,Qe4,Rfb1,Qd4,Qb3,Kh8,h3,f5,a4,Rc7,a5,Rc3,Qf7,Rxd3,Qxf5,Ra6,Kh1,Rf6,Qg4,Qxf2,a6,Rg3,Qe4,Rff3,Rg1', 'Rxh3+,gxh3,Rxh3#', 'https://lichess.org/training/rKHQy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rkhR8', 'Blitz', 'FM Colombiano07', 2142, 'MiltonMejiaL', 1808, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,Nc3,Nf6,Nf3,e6,Bb5,Bd7,O-O,Be7,Bf4,O-O,h3,a6,Ba4,b5,Bc2,Qb6,Be3,Qb8,Rc1,Na5,e5,Ne8,Ng5,Bxg5,Bxg5,f5,exf6,Nxf6,Re1,d5,Qd3,g6,b3,Nc6,Bb1,Nb4,Qe3,Qd6,Bf4,Qb6,Be5,Nc6,Bd6,Rf7,Bc5,Qd8,Ne2,Nh5,g3,Qf6,h4,Qf3,Qxf3,Rxf3,Kg2,Rf7,Rc3,b4,Rf3,Rxf3,Kxf3,a5,Nc1,Ng7,Nd3,Nh5,Bc2,Ng7,Nf4,Kf7,Bd3,Nf5,Bxf5,gxf5,Nh3,h6,Nf4,Rg8,Nd3,Rg4,Rc1,Nxd4+,Bxd4,Rxd4,Ne5+,Ke8,Rc7,Bb5,Rb7,Bf1', 'Rb8+,Ke7,Nc6+,Kf6,Nxd4', 'https://lichess.org/training/rkhR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rKHZV', 'Blitz', 'Daniel_Jabonero', 2004, 'Pietruks', 2044, 'd4,d5,c4,Nf6,Bf4,c6,Nc3,e6,Nf3,h6,c5,Be7,e3,O-O,Bd3,Na6,a3,Nh5,Be5,Nf6,h3,Nb8,Nh2,Nbd7,Ng4,Nxe5,Nxe5,Nd7,Ng4,Nf6,Ne5,Nd7,f4,f5,O-O,Nxe5,fxe5,Qe8,Ne2,Qg6,Nf4,Qg3,Rf3,Qg5,Qc2,Bd7,Raf1,Be8,Ne2,Bh5,Rg3,Qh4,Rf4,Bg4,hxg4,Bg5,Rh3,Qe1+,Rf1,Qxf1+,Kxf1,fxg4+,Kg1,gxh3,gxh3', 'Bxe3+,Kh2,Rf2+,Kg3,Raf8,Bh7+,Kh8', 'https://lichess.org/training/rKHZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rkIYt', 'Rapid', 'Vatok1972', 2252, 'Rydberg-Mass', 2121, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Qxd4,e6,Nf3,Nc6,Qe4,Be7,Bd3,d6,O-O,dxe5,Nxe5,f5,Qe2,O-O,Nxc6,bxc6,Nd2', 'Nf4,Qf3,Nxd3', 'https://lichess.org/training/rkIYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rkJCk', 'Rapid', 'mickg2', 2034, 'Demeroc', 2116, 'e4,Nf6,Nc3,d6,d4,g6,Nf3,Bg7,Be2,Bg4,Be3,Nc6,O-O,O-O,h3,Bxf3,Bxf3,e5,d5,Ne7,Ne2,c6,c4,cxd5,cxd5,b6,Ng3,Nd7,b4,Kh8,Rc1,f5,exf5,Nxf5,Nxf5,gxf5,Rc6,Nf6,Bg5,h6,Bh4,Qd7,Bxf6,Rxf6,Qc2,e4,Be2,Qf7,Rc8+,Rxc8,Qxc8+,Kh7,Bc4,Rg6,Bb3,Bd4,Rc1,Rg7,Qe6,e3,fxe3', 'Qxe6,dxe6,Bxe3+,Kf1,Bxc1', 'https://lichess.org/training/rkJCk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rkjx6', 'Classical', 'Micha_16', 1674, 'Nucleus42', 1585, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Bc5,d4,exd4,cxd4,Bb6,Nc3,Nf6,a4,O-O,Bf4,d6,d5,Ng4,Rf1,Nce5,Nxe5,Nxe5,Bxe5,dxe5,a5,Bd4,Rb1,c6,f4,cxd5,Bxd5,Be6,Bxe6,fxe6,fxe5,Bxe5,Qxd8,Raxd8,Rxf8+,Kxf8,g3,g5,Kf2,Rd2+,Ke3,Rxh2,Ne2,Rh3,Kf3,h5,Rf1,g4+,Kg2+,Kg7,b4,a6,Nf4,Bxf4,Rxf4,Kg6,Rf8,h4,Rg8+,Kh5,Rh8+,Kg5,Rg8+,Kh6,Rh8+,Kg7', 'Rxh4,Kf6,Rxh3,gxh3+,Kxh3', 'https://lichess.org/training/rkjx6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rKJzb', 'Classical', 'Bilal-k-z', 1643, 'Caruso_89', 1661, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,d6,Kh1,Bg4,d3,h6,a3,Nd4,h3,Bxf3,gxf3,Qd7,Kh2,O-O-O,Ne2,Nxf3+,Kg2,Nh4+,Kh2,Nf3+,Kg2,Ng5,Ng1,g6,b4,Bd4,Rb1,Nh5,b5,Nf4+,Bxf4,exf4,a4,f5,a5,fxe4,Qg4,f3+,Kh1,Qxg4,hxg4,h5,Kh2,hxg4+,Kg3,Be5+,Kxg4,Bf6,b6,cxb6,axb6,a6,Bxa6,bxa6,Ra1,Kb7,Ra5,Bd4,Rxg5,Bxb6,Rb1,exd3,cxd3,Ka7,Rxg6,Rhg8,Rxg8,Rxg8+,Kxf3,Rf8+,Ke4,Rxf2,Nh3,Rf8,Kd5,Rd8,Kc6,Bc5,Nf4,Rc8+,Kd7,Rb8,Rh1,Rb7+,Kc6,a5,Ne6,Rb6+,Kd5,Bb4,Rh7+,Rb7,Rh8,a4,Nd8,Rb5+,Kc6,Rc5+,Kd7,Kb6,Ne6,Rc6', 'Rb8+,Ka7,Rxb4', 'https://lichess.org/training/rKJzb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RknDo', 'Rapid', 'Mali-439', 1683, 'ladi007', 1695, 'd4,h6,c4,a6,Bf4,d6,e3,e6,Nc3,Ne7,Be2,Ng6,Bg3,Nd7,Bh5,Ne7,Qf3,Nf6,e4,Nxh5,Qxh5,Ng6,Nf3,Be7,e5,dxe5,Bxe5,Nxe5,Nxe5,Rf8,O-O,Bf6,f4,Bd7,Rae1,Qe7,Nxd7,Qxd7,Qf3,O-O-O,Ne2,g5,b4,Bxd4+,Nxd4,Qxd4+,Kh1,Qxc4,fxg5,hxg5,Qg3,f6', 'Rc1,Qxc1,Rxc1', 'https://lichess.org/training/RknDo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rKNiz', 'Rapid', 'Rulito2k', 1988, 'hamed1345', 1672, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,Bg4,dxe5,Nxe5,Bb5+,c6,Be2,Bxf3,gxf3,h6,f4,Ng6,Be3,Qe7,Nc3,a6,Qd2,O-O-O,Bb6,Rd7,Bg4,Nf6,Bxd7+,Kxd7,e5,Ng4,O-O-O,d5,h3,Qb4,hxg4,Qxb6,Nxd5,cxd5,Qxd5+,Kc8,Qd7+,Kb8,f5,Ne7,Qd8+,Nc8,Qxb6,Nxb6,Rd8+,Ka7,Rhd1,g6,f6,h5,g5,h4,Rh1,h3,Kd2', 'Bb4+,Ke2,Rxd8', 'https://lichess.org/training/rKNiz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RKnpR', 'Blitz', 'maurya_30praveen', 1858, 'SchImIdt', 2185, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,Nc6,d3,g6,a3,Bg7,Bd2,O-O,O-O,a6,h3,b5,Ba2,Rb8,Re1,a5,Nd5,b4,axb4,Nxd5,exd5,Nxb4,Bxb4,Rxb4,Rb1,Rxb2,Rxb2,Bxb2,Qb1,Bc3,Re2,Bd7,Qd1,Qb8,Bb3,Re8,d4,a4,Ba2,Qb2,Qb1,Rb8,Qxb2,Rxb2,Bc4,Kf8,Ng5,h6,Ne6+,fxe6,dxe6,Bc6,d5,Be8,Re3,Bd4,Ra3,Be5,c3,Rb1+,Bf1,Bb5,c4,Bxc4,g3,Bxf1,Rf3+,Kg7,Kh2,Bc4,Rf7+,Kg8,Rxe7,a3,Re8+,Kg7,Re7+,Kf6,Rf7+,Kg5,h4+,Kh5,Kh3,g5', 'g4+,Kg6,h5#', 'https://lichess.org/training/RKnpR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RkNYE', 'Classical', 'palash16', 1907, 'AfeeqHarith', 1991, 'Nf3,d6,d4,Nf6,g3,Nbd7,Bg2,c6,O-O,Qc7,Nbd2,e5,dxe5,dxe5,e4,Be7,a3,O-O,b3,Re8,Bb2,Bc5,Nc4,b5,Ncd2,Nf8,b4,Bd6,c4,Ng6,c5,Bf8,Bc3,Bg4,Re1,Rad8,Qb3,Be6,Qb2,Bg4,h3,Bxf3,Nxf3,Nh5,Rad1,Rxd1,Rxd1,Nf6,Re1,Nh5,h4,h6,Nh2,Qb8,Nf1,Qc7,Ne3,Nf6,Rd1,Kh7,Nf5,Kg8,Nd6,Re6,Bh3,Re7,Bf5,Nh8,Bxe5,Qd8,Bxf6,gxf6,Qxf6,Rd7,Qe5,Re7,Qf4,Bg7,Bh3,Ng6,Qg4,Ne5,Qe2,Kh7,Nf5,Qe8,Nxe7,Qxe7,Bf5+,Kg8,f4,Ng6,Rd7,Qf6,Qd2,Qa1+,Kg2,Qxa3,Rd8+,Kh7,h5,Bc3,Qd3,Qb2+,Kh3,Qc1,hxg6+,Kg7,gxf7', 'Qh1+,Kg4,h5+,Kg5,Bf6#', 'https://lichess.org/training/RkNYE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rkO7L', 'Rapid', 'Leoprucco00', 2198, 'majidkhani', 2135, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Nf6,O-O,b5,Qe2,Bb7,a4,b4,a5,Be7,Bd2,O-O,Qe1,Nc6,Nxc6,Bxc6,e5,Nd5,Be4,Bb5,Bd3,Bc6,Qe4,g6,Qg4,Qc7,Re1,f5,Qg3,Qd8,Bh6,Rf7,Nd2,Bh4,Qh3,Bg5,Nc4', 'Nf4,Qg3,Bxh6', 'https://lichess.org/training/rkO7L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rKoOo', 'Classical', 'eshneto', 1686, 'mostafa502', 1692, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nxe5,Nxe5,d4,Nxc4,dxc5,Ne5,Qd5,d6,O-O,Nf6,Qd4,O-O,Bg5,Qe7,f4,Nc6,Bxf6,Qxf6,Qxf6,gxf6,cxd6,cxd6,f5,Nd4,Na3,d5,exd5,Nxf5,c4,Kg7,Nb5,Ne3,Rf4,Bd7,Nd6,b6,a3,a5,Re1,Ng4,h3,Ne5,Ref1,f5,a4,Nd3,Nxf5+,Bxf5,Rxf5,Nxb2,R1f4,f6,Rg4+,Kf7,Rgf4,Ke7,Rh4,Rf7,Re4+,Kd7,g4,Rg8,h4,h6,Ref4,Nxa4,g5,hxg5,hxg5,Nc3,Kf1,Ke7,Rf3,Rxg5,d6+,Kf8,d7,Rxf5', 'd8=Q+,Kg7,Rxf5', 'https://lichess.org/training/rKoOo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RkuF2', 'Blitz', 'FrancoCruz', 1587, 'wanfu', 1584, 'e4,c6,d4,d5,exd5,cxd5,Bf4,Bf5,Bd3,Bxd3,Qxd3,Qb6,b3,Nc6,Nf3,Nf6,h3,e6,O-O,Be7,Nbd2,O-O,c3,Rac8,Rac1,Qa5,Rc2,b5,b4,Qb6,Nb3,a5,a3,axb4,axb4,Rfd8,Ne5,Nxe5,Bxe5,Ne4,f3,Nf6,Nc5,Nd7,Nxd7,Rxd7,g4,Bd6,f4,Bxe5,fxe5,Rdc7,Rf3,Rc4,Qd2,Qa7,Ra2,Qb7,Kg2,R8c6,Kg3,Qc8,Rc2,Qb8,h4,f6,Qf4,fxe5', 'Qf7+,Kh8,Qf8+,Qxf8,Rxf8#', 'https://lichess.org/training/RkuF2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rkv9m', 'Rapid', 'lightknight08', 2136, 'Kord-chess73', 2198, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,d6,Be3,Nf6,f3,Be7,Qd2,Nbd7,O-O-O,Qc7,g4,b5,g5,Nh5,Bh3,Nb6,b3,Bb7,Bg4,g6,Bxh5,gxh5,Ndxb5,axb5,Nxb5,Qd8,Qd4,O-O,Qxb6,Qxb6,Bxb6,d5,Nc7,Rxa2,exd5,Bxd5,Nxd5,exd5,Rxd5', 'Ra1+,Kb2,Rxh1', 'https://lichess.org/training/Rkv9m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rKVyK', 'Classical', 'theosis101', 1989, 'jaitra', 1692, 'd4,Nf6,c4,g6,f3,c5,d5,e6,e4,Bg7,Nc3,O-O,Bg5,exd5,Nxd5,h6,Nxf6+,Bxf6,Bxh6,Bxb2,Bxf8,Qa5+,Kf2,Bd4+,Kg3,Qc7+,f4,g5,Qg4,Kxf8,Rd1,gxf4+,Qxf4', 'Be5,Qxe5,Qxe5+', 'https://lichess.org/training/rKVyK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rkw22', 'Classical', 'alexN2020', 1711, 'Volk_Pozornii', 1777, 'e4,e5,Bc4,Nf6,d3,Bc5,Bg5,d6,Nc3,Bg4,Nf3,Bd4,Nd5,Bxb2,Rb1,Bd4,Rxb7,O-O,Nxc7,Bc3+,Ke2,Nc6,Nxa8,Nd4+,Ke3,Bh5,h3,Bxf3,gxf3,Ng4+,hxg4', 'Qxg5+,f4,exf4#', 'https://lichess.org/training/Rkw22');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rKWwf', 'Classical', 'AngelicaR', 1801, 'kid1980', 1685, 'd4,d5,Nf3,Nf6,Bf4,c5,e3,Qb6,Qc1,Nc6,c3,c4,Nbd2,Bf5,Be2,e6,O-O,h6,h3,Be7,Re1,a5,Bd1,Qa6,Bc2,Bxc2,Qxc2,b5,e4,b4,exd5,Nxd5,Bh2,a4,Ne4,b3,axb3,cxb3,Qe2,Qxe2,Rxe2,a3,Bd6,O-O,Bxe7,axb2,Rb1,Ra1,Rxb2,Rxb1+,Rxb1,Ncxe7,Rxb3,Rc8,Nc5,Nc6,Kf1,Na5,Rb5,Nc4,Rb3,Ra8,Nd7', 'Ra1+,Ne1,Nd2+,Ke2,Nxb3', 'https://lichess.org/training/rKWwf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RKxBg', 'Classical', 'mazembe', 1792, 'sativus', 1744, 'e4,c5,Nf3,a6,c3,d6,g3,Nd7,Bg2,e5,O-O,b5,d3,Bb7,Re1,Be7,Nbd2,h6,Nf1,Ngf6,Ne3,O-O,Nf5,Kh7,b3,Ng8,Bb2,g6,Ne3,Ngf6,Rc1,Nh5,Nd5,Bxd5,exd5,Ndf6,c4,b4,Nd2,Ng7,Ne4,Nxe4,dxe4,f5,Qc2,f4,Qd1,Bg5,Rc2,fxg3,hxg3,Nh5,Bh3,Qf6,Rf1,Qf3,Qxf3,Rxf3,Kg2,Raf8,Bc1,Bxc1,Rcxc1,Ng7,Ra1,h5,a3,Rxb3,axb4,Rxb4,Rxa6,Ne8,Rc1,Rb2,Rf1,Rc2,Ra4,Nf6,Re1,Rb8,Kg1,Kh6,f4,exf4,gxf4,Rb4,Rxb4,cxb4,e5,dxe5', 'fxe5,b3,exf6', 'https://lichess.org/training/RKxBg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RKXdb', 'Rapid', 'Chesspimp404', 1622, 'rhelmstedter', 1614, 'd4,d5,e3,e6,a3,Nf6,h3,Bd6,Nc3,O-O,Nf3,Re8,Bd3,e5,dxe5,Bxe5,Bd2,c6,Na4,b5,Nc3,h6,Nd4,Bxd4,Qe2,Bb6,O-O-O,d4,Nb1,Nd5,Qf3,dxe3,Bxe3,Bxe3+,fxe3,Nxe3', 'Bh7+,Kxh7,Rxd8', 'https://lichess.org/training/RKXdb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RL2yk', 'Rapid', 'Cheesseburger', 1915, 'ynsccn', 1864, 'h3,e5,d3,d6,e4,Nc6,c4,Nf6,Nc3,Be6,Nd5,Be7,Nf3,Qd7,Ng5,h6,Nxe6,fxe6,Nc3,O-O-O,Be2,d5,Bg4,h5,Bxe6,Qxe6,cxd5,Nxd5,exd5,Rxd5,Nxd5,Qxd5,O-O,g5,Be3,g4,hxg4,hxg4,Qxg4+,Kb8,Qg7', 'Rg8,Qxg8+,Qxg8', 'https://lichess.org/training/RL2yk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rl6yb', 'Blitz', 'AS_Rock', 1930, 'Ahmed343', 1880, 'd4,e6,c4,c6,Nc3,Bd6,Nf3,Bc7,Bg5,Nf6,e4,d6,e5,h6,exf6,hxg5,fxg7,Rg8,g3,f5,Bg2,Rxg7,Qd3,Nd7,d5,Nc5,Qe2,e5,dxc6,bxc6,O-O,Bd7,Rad1,Qf6,Nd4,e4,f3,O-O-O,b4,Nb7,fxe4,Qe5,exf5,Qxe2,Ncxe2,Rf7,Bxc6,Bxf5,Bxb7+,Kxb7,Rxf5,Re7,Rdf1,Re3,Rf7,Rde8,Nc1,Kb6,Nb5,Bb8,Nb3,a6,N3d4,axb5,cxb5,R3e4,Nc6,Bc7,R7f5,Re2,a4,d5,a5+,Kxb5,Rxd5+,Kxc6,Rc5+,Kb7,Rfc1,R8e7,a6+,Kb6', 'Rc6+,Ka7,Rxc7+,Rxc7,Rxc7+', 'https://lichess.org/training/Rl6yb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RL73g', 'Rapid', 'G3M_King', 2018, 'NBardoscia', 1842, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,g6,Nc3,Bxa6,Nf3,Bg7,g3,d6,Bg2,Nbd7,O-O,O-O,Re1,Nb6,e4,Nfd7,Nd2,Qc7,f4,Rfb8,Nf3,Ra7,e5,Nc4,b3,Ncb6,Bd2,Bb7,exd6,exd6,Rc1,Bxc3,Bxc3,Rxa2,Ng5,Nxd5', 'Bxd5,Bxd5,Qxd5', 'https://lichess.org/training/RL73g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RLAjM', 'Rapid', 'Phantom2019', 1651, 'kayafaruk1961', 1669, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Qf3,O-O,Nd2,Bg4,Qg3,Nc6,Nxc6,bxc6,O-O,d5,e5,dxc4', 'exf6,Bxf6,Qxg4', 'https://lichess.org/training/RLAjM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rLclB', 'Blitz', 'FM HarryG7227', 2600, 'Olga_Kornieva', 2617, 'd4,d5,Bg5,h6,Bh4,c6,Nf3,Qb6,Qc1,Bg4,Nbd2,Nd7,e3,e6,c4,Be7,Bxe7,Nxe7,Bd3,O-O,O-O,Rac8,c5,Qc7,h3,Bxf3,Nxf3,e5,Be2,Rfe8,Re1,Nf5,Qc3,Re6,b4,Rce8,Bf1,e4,Nd2,Rg6,b5,Nh4,Kh1,Nf8,bxc6,bxc6,Rab1,Ne6,Qb2,Qe7,g3,Nf5,Bg2,Qg5,Nf1,h5,Qb7,Re7,Qxc6,Kh7,Qxd5', 'Nxg3+,Nxg3,Qxd5', 'https://lichess.org/training/rLclB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rlCWb', 'Blitz', 'FM JusticeBot', 2365, 'quentinf', 2318, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Nf3,d6,cxd4,e6,Bc4,Be7,O-O,O-O,Qe2,b6,Nc3,Nxc3,bxc3,Qc7,Bd3,Bb7,Ng5,Bxg5,Bxg5,dxe5,dxe5,Nd7,Rfe1,Nc5,Bc2,Rac8,Qh5,g6,Qh4,Qc6,f3,Nd7,Be4,Qc7,Bxb7,Qxb7,Bf6,Nxf6,exf6,Kh8,Qh6,Rg8,Re5,Qc7,Re4,Qxc3', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/rlCWb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RlD7a', 'Classical', 'mike065', 1626, 'cuttsy1974', 1628, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,h6,c3,Nf6,O-O,Bb7,d4,exd4,e5,Nh7,Bd5,dxc3,Nxc3,Bc5,Be4,Ng5,Bxg5,hxg5,e6,fxe6,Bg6+,Kf8,Ne4,Bb6,Nexg5,Ne7,Ne5,Rh6,Ngf7,Rxg6,Nxd8,Rxg2+,Kh1,Rxd8,f3,Rxb2,Qd3,d6,Ng6+,Nxg6,Qxg6,Bd5,Rae1,Re8,Qh7,Kf7,Qh5+,Kf8,Re4,Bxe4', 'fxe4+,Rf2,Rxf2+,Bxf2,Qf3+,Ke7,Qxf2', 'https://lichess.org/training/RlD7a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RLEIP', 'Rapid', 'thesaluki', 1938, 'RayL', 2028, 'g4,d5,Bg2,c6,h3,Nf6,d4,g6,Nf3,Bg7,O-O,O-O,Bg5,Ne4,Be3,Qb6,Nbd2,Nxd2,Qxd2,Qxb2,Bh6,Qa3,Bxg7,Kxg7,Ne5,Nd7,e4,dxe4,Bxe4,Qd6,Nc4,Qc7,Rae1,Nf6,Bg2,Be6,Ne5,Nd5,c4,Nf6,d5,cxd5,cxd5,Rfd8,g5,Nxd5,Qb2,Kg8,Ng4,Qb6', 'Nh6+,Kf8,Qh8#', 'https://lichess.org/training/RLEIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RLEVZ', 'Rapid', 'Hodaifa', 1778, 'ecoman_ali', 1766, 'e4,e5,Nf3,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Bc5,d3,Ngf6,h3,h6,Nc3,e4,dxe4,Nxe4,Nxd5,O-O,Nc3,Nef6,a3,a5,b3,Qc8,Bb2,Re8,Nd5,Nxd5,Qxd5,Nb6,Qd2,Qf5,Rfe1,Rad8,Qxa5,Rxe1+,Qxe1,Qxc2,Rb1', 'Bxf2+,Qxf2,Qxb1+', 'https://lichess.org/training/RLEVZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RlF1R', 'Rapid', 'bargodoune', 1898, 'CoolCalc', 1863, 'c4,e5,Nc3,Nf6,g3,Nc6,Bg2,d6,e3,Be6,b3,Ng4,Nge2,Be7,O-O,O-O,d4,exd4,exd4,Bf5,a3,Bg5,Re1,Bxc1,Rxc1,Rb8,Nf4,Qd7,Ncd5,Rbe8,c5,Rxe1+,Qxe1,Re8,Qd2,h6,b4,a6,a4,Ne7,cxd6,cxd6,Rc7,Qd8,Nxe7+,Rxe7,Nd5', 'Rxc7,Nxc7,Qxc7', 'https://lichess.org/training/RlF1R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rlfCx', 'Rapid', 'Mgass', 1819, 'faham0151', 1840, 'd4,d5,Bf4,Bf5,e3,e6,Nd2,Nc6,Ngf3,Nf6,Bb5,Qd7,Ne5,Qd6,Nxf7,Qb4,Bxc6+,Kxf7,c3,Qxb2,Rb1,Qxc3,Rxb7,Qxc6,Rxc7+,Qxc7,Bxc7,Bb4,O-O,Bd3,Re1,Bc4,Be5,Rhc8,Bxf6,gxf6,Nxc4,Rxc4,Re2', 'Rac8,Re1,Bxe1', 'https://lichess.org/training/rlfCx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rlFr6', 'Classical', 'Kingshowman', 1692, 'sajad219219', 1729, 'd4,d5,c4,e6,Nf3,h6,Nc3,Nf6,Bf4,b6,cxd5,exd5,g3,Bb7,Bg2,Bd6,Bxd6,Qxd6,O-O,Ba6,Re1,O-O,Ne5,Nbd7,Nxd7,Qxd7,e4,Bb7,e5,Ne4,Nxe4,dxe4,Bxe4,Bxe4,Rxe4,Qd5,Rg4,c5,dxc5,Qxc5,Qd2,f5,exf6,Rxf6,Rc1,Qh5,Qe2,Qf7,Qc4,Rxf2,Qxf7+,Rxf7,Rc6,Raf8,Rxh6', 'Rf1+,Kg2,R8f2+,Kh3,Rh1,Rxg7+,Kxg7', 'https://lichess.org/training/rlFr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RLHa5', 'Rapid', 'romeol', 2041, 'metla555', 1782, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,g3,Nge7,Bg2,Ng6,Bf4,Be6,Nbd2,f6,exf6,Nxf4,gxf4,gxf6,e3,Rg8,Kf1,dxe3,fxe3,Qd3+,Qe2', 'Qxe2+,Kxe2,Rxg2+', 'https://lichess.org/training/RLHa5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rli9c', 'Rapid', 'ercole', 1653, 'Arie_ardiana', 1681, 'e3,e5,h3,Nf6,a3,d5,d3,c5,Ne2,d4,e4,Nbd7,Nd2,Be7,Ng3,O-O,Be2,b6,O-O,Bb7,Nf3,Ne8,Bd2,Qc8,Qc1,Nb8,Bh6,gxh6,Qxh6,Ng7,Ng5,Bxg5,Qxg5,Qc6', 'Nf5,Qg6,Ne7+,Kh8,Nxg6+', 'https://lichess.org/training/rli9c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rLJqj', 'Rapid', 'malilug28', 1954, 'mionescu', 2255, 'd4,Nf6,e3,g6,Nc3,d5,Bd2,Bg7,Bd3,O-O,Nf3,c5,dxc5,Nc6,a3,a5,Na4,e5,Bb5,Bg4,h3,Bxf3,gxf3,Nd7,Qe2,d4,e4,f5,O-O-O,Qf6,h4,fxe4,f4,exf4,Qxe4,Rae8,Qd5+,Kh8,Qxd7,Re7,Qd6,Re6,Qd5,Rd8,Qg5,Qf7,Bxc6,Bf6,Qxf4,bxc6,Rhe1,Rxe1,Rxe1,d3,Bc3,Bxc3,Qxf7', 'd2+,Kb1,dxe1=Q+', 'https://lichess.org/training/rLJqj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RLKTt', 'Blitz', 'david_h1', 2267, 'FM nissousspou', 2438, 'c4,Nf6,Nc3,e6,e4,d5,cxd5,exd5,e5,Ne4,Nf3,Nc6,d4,Bg4,h3,Bxf3,gxf3,Nxc3,bxc3,Qh4,Rg1,O-O-O,Bg5,Qh5,Bxd8,Nxd8,Be2,Qxh3,Qa4,Qh2,Rf1,Kb8,Rb1,Be7,Qd7,Bh4,Qxd5,Qf4,Ba6,b6,Qe4,Qxe4+,fxe4,Be7,f4,h5,Rh1,h4,Rh3,c6,Be2,Kc7,Kf2,Ne6,Ke3,g5,f5,Nf4,Rh2,h3,Bg4,Rh4,Kf3,Nd3,Rxh3,c5,Rxh4,gxh4,Rd1,Nb2,Rd2,Nc4,Rh2,Bg5,Bh5,f6,e6,Kd6,Rh1,Nd2+,Kg4,Nxe4,Re1,Nf2+,Kf3,Nd3,e7', 'Nxe1+,Ke2,Kxe7', 'https://lichess.org/training/RLKTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rLL0h', 'Rapid', 'mpanetti', 1748, 'cepdit', 1748, 'd4,d5,Bf4,e6,Nf3,c5,e3,c4,b3,Bb4+,c3,Ba5,bxc4,dxc4,Bxc4,Nf6,Bb5+,Nc6,Qa4,Bd7,O-O,Bb6,Nbd2,O-O,Rfe1,Nd5,Rac1,Nxf4,exf4,a6,Bxc6,Bxc6,Qb3,Bc7,Ne5,Bxe5,fxe5', 'Qg5,f3,Qxd2', 'https://lichess.org/training/rLL0h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rllEx', 'Blitz', 'fab191919', 1654, 'Carducci', 1666, 'e4,c5,f4,d6,h3,Nf6,Nc3,Nc6,Nf3,a6,Bc4,e6,a3,Be7,d3,b5,Ba2,Bb7,O-O,Qc7,f5,exf5,exf5,Ne5,Nxe5,dxe5,Be3,O-O,g4,Rad8,g5,Nd5,Bxd5,Bxd5,Qe2,f6,g6,h6,Ne4,Bxe4,dxe4,Qc6,c4,Qxe4,cxb5,axb5,Rad1,Rxd1,Rxd1,Rd8,Kf1,Rxd1+,Qxd1,Qxe3', 'Qd5+,Kh8,Qa8+,Bf8,Qxf8#', 'https://lichess.org/training/rllEx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RllFf', 'Blitz', 'Babola73', 1779, 'BigOllie', 1773, 'e4,e5,Nc3,Nc6,d3,Bb4,Bd2,Qf6,f4,exf4,Nf3,d6,Be2,Bg4,O-O,Nd4,Nxd4,Qxd4+,Kh1,Bxe2,Qxe2,Nf6,Rxf4,O-O,Raf1,Qb6,Rxf6,gxf6,Bh6,Kh8,Bxf8,Rxf8,Rxf6,Bxc3,bxc3,Rg8,Rxf7,Qb1+,Rf1,Qxa2,d4,a5,c4,a4,e5,a3,e6,Re8,d5,Qb2,Qf3,a2,e7,a1=Q', 'Qf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/RllFf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rLLJW', 'Classical', 'vjhjpjd', 1896, 'Doruktasde', 1923, 'd4,e5,d5,Nf6,c4,c6,Nc3,cxd5,cxd5,Bb4,Bd2,d6,a3,Ba5,b4,Bb6,e4,Bd4,f3,O-O,Nge2,Re8,Nxd4,exd4,Nb5,Nxd5,Nxd4,Nc6,Bc4,Nb6,Nxc6,bxc6,Bd3,d5,O-O,Bb7,Qc2,Nd7,exd5,cxd5,Bxh7+,Kh8,Bd3,Rc8,Qb2,Ne5,Bb5', 'Qb6+,Kh1,Qxb5', 'https://lichess.org/training/rLLJW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rLpPG', 'Classical', 'spudimun', 1817, 'arash_s', 1763, 'd4,e6,c4,c5,d5,exd5,cxd5,d6,Nc3,Be7,e4,Nf6,Bd3,O-O,Nge2,a6,O-O,b5,a3,Bg4,f3,Bh5,b4,c4,Bc2,Nbd7,Bb2,Ne5,Nf4,Bg6,Nce2,a5,Nd4,axb4,Nxg6,Nxg6,axb4,Rxa1,Qxa1,Nf4,Rf2,Qb6,Kf1,h6,Nf5,Re8,Nxe7+,Rxe7,Bxf6,gxf6,Qxf6,Ra7,Qxf4,Ra1+,Ke2,Qd4,Qd2,Qe5,g3,c3,Qf4,Qd4,Qe3', 'Re1+,Kxe1,Qxe3+', 'https://lichess.org/training/rLpPG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rLRI5', 'Rapid', 'HClay', 1806, 'wwsilva', 1836, 'd4,Nf6,Bf4,d6,Nf3,e6,h3,Be7,e3,a6,Bd3,Nbd7,O-O,O-O,Nbd2,c5,c3,cxd4,exd4,b5,a3,Bb7,Re1,Rc8,Ne4,Nxe4,Bxe4,Bxe4,Rxe4,Nf6,Re1,Nd5,Bg3,h6,Rc1,Qb6,Qe2,Rc7,Nd2,Rfc8,Qd3,Rc4,Ne4,Qd8,Qf3,a5,Bf4,b4,axb4,axb4,Bd2,bxc3,bxc3,Nf6,Ra1,Nxe4,Qxe4,d5,Qf3,Ra8,Qg3,Bd6', 'Rxa8,Qxa8,Qxd6', 'https://lichess.org/training/rLRI5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rlsqw', 'Rapid', 'selami23yildiz', 1961, 'Jhapz17', 2039, 'e4,c5,Nf3,d6,Bc4,a6,a4,Nf6,Qe2,Qc7,c3,e5,d4,cxd4,cxd4,Bg4,dxe5,dxe5,Nc3,Nc6,Bg5,Nd4,Qd3,Rd8,Bxf6', 'Nxf3+,gxf3,Rxd3', 'https://lichess.org/training/rlsqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rLugn', 'Rapid', 'Manu_Moreno1', 2166, 'zwer_alsamalosy', 2277, 'b3,e6,Bb2,b6,g3,Bb7,Nf3,Nc6,Bg2,Qe7,a4,a5,c3,O-O-O,Ba3,d6,b4,h5,bxa5,Nxa5,Bb4,h4,Bxa5,h3,Bf1,bxa5,Qb3,g5,Rg1,g4,Nd4,Bg7,Na3,Nf6,Rb1,Bd5,Qb5,Nd7,Nc6,Bxc6', 'Qa6+,Bb7,Qxb7#', 'https://lichess.org/training/rLugn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rLUS4', 'Blitz', 'Kirinmac', 1911, 'ehsanoloomi', 1874, 'd4,d5,Nf3,Bf5,Bf4,Nc6,e3,Qd7,Bb5,a6,Ba4,f6,Nbd2,g5,Bg3,h5,h4,g4,Ng1,O-O-O,Ne2,e6,Rc1,Bd6,Bxd6,Qxd6,c4,dxc4,Rxc4,b5,Rc3,bxa4,Qxa4,Nb8,Nc4,Qc6,Qa5,Qb5', 'Nd6+,Rxd6,Qxc7#', 'https://lichess.org/training/rLUS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rlWeO', 'Rapid', 'hemanth0000', 1872, 'Shakura', 1863, 'e4,d5,e5,e6,d4,c5,f4,Ne7,c3,Nf5,Nf3,cxd4,cxd4,Nc6,Nc3,Ncxd4', 'Nxd4,Nxd4,Qxd4', 'https://lichess.org/training/rlWeO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rlwlk', 'Rapid', 'allotropo', 1745, 'Arab_Knight', 1739, 'd4,Nf6,c4,e5,e3,Bb4+,Nc3,exd4,exd4,O-O,Bd3,Re8+,Ne2,Nc6,O-O,Bxc3,bxc3,b6,Bg5,h6,Bh4,Bb7,d5,Ne5,Bc2,Nxc4,Bb3,Bxd5', 'Bxf6,Qxf6,Qxd5', 'https://lichess.org/training/rlwlk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rLWRu', 'Classical', 'Alej981205', 1792, 'Vadim2991', 2013, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nf5,Bxf5,exf5,Be7,Be3,Nbd7,Qd2,O-O,O-O-O,Rc8,g4,h6,Ne4,Nxe4,fxe4,Nf6,Bd3,d5,g5,dxe4', 'gxf6,exd3,fxe7', 'https://lichess.org/training/rLWRu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RLxIT', 'Classical', 'Kawanua', 2093, 'Tchitcherine', 1777, 'd4,d5,Nf3,c6,e3,Nf6,Nbd2,e6,Bd3,Be7,Ne5,Nbd7,f4,c5,c3,cxd4,exd4,O-O,O-O,b6,g4,Nxe5,fxe5,Nd7,Qf3,a5,Qh3,g6,Nf3,Kg7,Qh6+,Kg8,Bg5,Ba6,Bxa6,Rxa6,Bxe7,Qxe7,Ng5,f5,exf6,Rxf6,Rxf6,Nxf6,Rf1,Nxg4', 'Rf8+,Qxf8,Qxh7#', 'https://lichess.org/training/RLxIT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rLXrd', 'Rapid', 'kanigara', 1756, 'paplu123', 1762, 'e4,e5,d3,Nc6,Nf3,d6,a3,Bg4,Be2,Nf6,Nbd2,Qd7,b3,Nd4,Bb2,Nxf3+,Nxf3,Bxf3,Bxf3,Be7,O-O,O-O,Qe2,Ne8,Bg4,Qd8,f4,f6,fxe5,dxe5,Bxe5,fxe5,Be6+,Kh8,Rxf8+,Bxf8,Rf1,Nf6,Bf5,Bc5+,Kh1,Qe7,b4,Bd6,Rf3,Rf8,Rh3,h6,g4,Kg8,Qg2,Qf7,g5,Nh5,gxh6,Nf4,Qg4,Nxh3,Qxh3,g6', 'Be6,Kh7,Bxf7', 'https://lichess.org/training/rLXrd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rlZSb', 'Classical', 'map0207', 1641, 'ezizbegli', 1698, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,Nge7,d5,Ne5,Nxe5,dxe5,O-O,O-O,Nf3,Ng6,Qd2,Nf4,Nxe5', 'Qg5,Qxf4,Qxf4', 'https://lichess.org/training/rlZSb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RlZv9', 'Rapid', 'Santoshpal', 2244, 'YAHYAAAAB', 2198, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,Bb4,Bd3,Nf6,Qe2,d5,e5,Ne4,Bd2,Bxc3,Bxc3,c5,dxc5,Nxc3,bxc3,bxc5,Rb1,Qc7,c4,Nc6,cxd5,exd5,e6,f6,O-O,g6,Rb5,c4,Rxd5,cxd3,cxd3,O-O,Rd7,Qc8,Rb1,Ba6,Qd2,Rb8,Rc1,Rd8,Rf7,Qxe6,Rc7,Ne5,Nxe5,Qxe5', 'Qh6,Qxc7,Rxc7', 'https://lichess.org/training/RlZv9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RM8jI', 'Rapid', 'Be_four-As_six', 1916, 'Kr2000', 1972, 'b4,c6,Bb2,d6,c4,Nf6,e3,g6,Nf3,Bg7,Nc3,Nbd7,a3,a5,b5,c5,Be2,b6,h3,Bb7,Qc2,O-O,h4,e6,Rh3,d5,cxd5,exd5,g4,Re8,h5,Nxg4,hxg6,fxg6,Nh4,Nde5,f4,d4,fxe5,dxc3,Bxc3,Nxe5,O-O-O,Qd6,Rg1,Rad8,e4,Nf7,Bc4,Bxe4,d3,Bd5,Bxg7,Kxg7', 'Nf5+,Kg8,Nxd6', 'https://lichess.org/training/RM8jI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rm8vy', 'Rapid', 'MaxEve', 2079, 'Alexandr_B', 1899, 'e4,e6,c4,d5,cxd5,exd5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bb4,Bc4,O-O,O-O,Bg4,h3,Bh5,Qd3,Bg6,Qd1,Re8,Bg5,a6,Ne5,Be7,Nxg6,hxg6,Re1,Nc6,d5,Nb4,Bxf6,Bxf6,a3', 'Rxe1+,Qxe1,Nc2,Qb1,Nxa1', 'https://lichess.org/training/Rm8vy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RM9zY', 'Rapid', 'Lucieudo', 1767, 'Deltrin', 1791, 'e4,e5,Bc4,Nc6,Nc3,Bc5,d3,Nf6,f4,d6,a3,Ng4,Nh3,Qh4+,Kf1,Ne3+,Bxe3,Bxe3,Qf3,Bxh3,Qxe3,exf4', 'Qxh3,Qxh3,gxh3', 'https://lichess.org/training/RM9zY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMAZp', 'Blitz', 'NM Janou', 2311, 'MHz1999', 2216, 'd4,Nf6,Nc3,d5,Bf4,g6,f3,Bg7,Qd2,O-O,O-O-O,c6,g4,Nbd7,h4,b5,h5,b4,Na4,Qa5,b3,Nb6,Bh6,Nxa4,hxg6,fxg6,Bxg7,Nc3,Qh6,Qxa2,Kd2,Nfe4+,fxe4,Nxe4+,Ke3,Qxc2,Bxf8', 'Qc3+,Rd3,Qc1+', 'https://lichess.org/training/rMAZp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rmBG4', 'Rapid', 'aurora_13', 1778, 'saidisufi1', 1774, 'e4,e5,Nf3,Nc6,Bc4,h6,a3,Nf6,Ba2,Nxe4,Nc3,Nxc3,bxc3,e4,Nd4,Nxd4,cxd4,d5,O-O,Qf6,d3,Qxd4,Re1,Qxa1,Bxd5,Be6,Bxb7,Rb8', 'Bc6+,Kd8,Bg5+,hxg5,Qxa1', 'https://lichess.org/training/rmBG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmcBD', 'Rapid', 'joeabr04', 1849, 'ikin_solikin', 1841, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,Nc3,Bg4,f3,Bh5,d3,Bd6,O-O,a6,Nge4,O-O,Nxd6,cxd6,Qe1', 'Nxc2,Qf2,Nxa1', 'https://lichess.org/training/RmcBD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RMcIB', 'Rapid', 'FSDove', 1752, 'Pablooo123', 1747, 'e4,g6,Bc4,Bg7,Ne2,e6,a3,Nf6,d3,Nc6,O-O,e5,h3,O-O,Ba2,d6,Nbc3,Bd7,Bg5,Qc8,Bxf6,Bxf6,Kh2,Nd4,Nxd4,exd4,Ne2,c5,f4,Bh4,Ng1,Be6,Nf3,Be7,Ng5,Bxa2,Rxa2,Qc7,h4,d5,e5,Bxg5,hxg5,c4,Qd2,c3,bxc3,dxc3,Qc1,d4,Ra1,b6,Qe1,Rfe8,Qe4,Rad8,Rfb1,Qc5,Rb4,b5,Rab1,Qd5,Rxd4', 'Qxd4,Qxd4,Rxd4', 'https://lichess.org/training/RMcIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMcsu', 'Rapid', 'CONMUTADOR', 1650, 'Republican1', 1703, 'e4,e5,Nf3,d6,Bb5+,Bd7,Bc4,h6,c3,Nc6,d3,f5,exf5,Bxf5,Bb3,Qe7,h3,O-O-O,Nbd2,Nf6,Bc2,e4,dxe4,Nxe4,O-O,Nxd2,Bxd2,Bxc2,Qxc2,g5,Rfe1,Qf7,Nd4,Ne5,a4,g4,h4,Be7,g3,c5,Qf5+,Qxf5,Nxf5,Nf3+,Kf1,Nxe1', 'Nxe7+,Kd7,Rxe1', 'https://lichess.org/training/rMcsu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RMDul', 'Blitz', 'Papito75', 2072, 'rightnow', 2130, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Bc4,e6,h3,Bxf3,Qxf3,c6,d3,Nf6,Bg5,Nbd7,O-O-O,Bb4,d4,Qa5,Bd2,O-O,g4,Nd5,Ne4,N7b6,Bb3,Na4,c3,Be7,h4,b5,Ng5,b4,c4,Ndb6,Qd3,g6,h5,Bxg5,Bxg5,Qxg5+,Kb1,Rad8,Qe4,c5,hxg6,hxg6,d5,exd5,cxd5,c4,Bxc4,Nxc4,Qxc4,Nb6,Qd4,f6,d6,Qe5,Qxb4,Qe6,Rh6,Kg7,Rdh1,Rh8,g5,Qf5+,Ka1,Qxg5,Qe4,Rxh6,Qe7+,Kg8,Qxd8+,Kg7,Re1,Rh4', 'Re7+,Kh6,Qh8#', 'https://lichess.org/training/RMDul');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmE35', 'Rapid', 'Styrast', 1706, 'Alex9494', 1732, 'e4,d5,d4,dxe4,Qe2,Nf6,h3,Nc6,Qb5,Qxd4,Be3,a6', 'Qxc6+,bxc6,Bxd4', 'https://lichess.org/training/RmE35');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RMEw6', 'Rapid', 'Aleks131172', 1931, 'aliteker', 1991, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,c5,d5,O-O,Nf3,e6,Be2,exd5,cxd5,Re8,Bd3,Bf5,e5,dxe5,fxe5,Nxd5,Bxf5,Nxc3,Qxd8,Rxd8,bxc3,gxf5,O-O,Nc6,Bg5,Re8,Bf6,Nxe5,Bxg7,Nxf3+,Rxf3,Kxg7,Rxf5,b6,Raf1,Re7,h4,Rae8,Kh2,Kg6', 'Rg5+,Kh6,Rf6#', 'https://lichess.org/training/RMEw6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rmFcH', 'Blitz', 'Gaiar', 1563, 'amet8968', 1563, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,Bd6,O-O,Nh5,e5,Be7,Qg4,d5,Qxh5,dxc4,Rd1,Bd7,Nd5,O-O,Nxe7+,Qxe7,Bf4,Bc6,Qg4,f6,Bxh6,fxe5,Be3,Rf7,Qxc4,Rf8,Bc5,Qf6,Bxf8', 'Qxf2+,Kh1,Bxg2#', 'https://lichess.org/training/rmFcH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rmGn3', 'Classical', 'quangthu', 1722, 'Zeitnot24', 1747, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,b3,Na5,Bd5,c6,Bc4,d5,exd5,cxd5,Bb5+,Nc6,Nxe5', 'Qa5+,Nd2,Qxb5', 'https://lichess.org/training/rmGn3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmH7h', 'Blitz', 'bcrfylth1975', 2029, 'Botvinnik3350', 1989, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d5,Bg5,c6,Nf3,Qa5,a3,Bxc3+,bxc3,Ne4,Bd2,Nd7,cxd5,exd5,e3,O-O,Bd3,Ndf6,O-O,Qc7,Ne5,Bf5,Bc1,Bg6,f3,Nd6,h4,Nd7,Nxg6,hxg6,h5,gxh5,Bh7+,Kh8,Bf5,Nf6,Kf2,g6,Bd3,Rfe8,Bd2,b5,Rh1,Kg7,Rh3,c5,Rah1,cxd4,exd4,Re6,g4,hxg4,Bh6+,Kg8,fxg4,Nxg4+,Kf1,Rae8,Bd2,Rf6+,Kg1,Rf5,Rh8+,Kg7,R1h7+,Kf6,Bxf5,Nxf5,Rxe8', 'Qg3+,Kf1,Qf2#', 'https://lichess.org/training/RmH7h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RMi8M', 'Classical', 'BatmanBinSuparman', 1881, 'Maddindaboss', 2148, 'd4,f5,Nf3,Nf6,e3,g6,c3,Bg7,Bd3,d5,O-O,O-O,Nbd2,e6,c4,Nbd7,b3,b6,Bb2,Bb7,Rc1,c5,cxd5,Bxd5,Nc4,Ne4,Bxe4,Bxe4,dxc5,Bxb2,Nxb2,Nxc5,Ne5,Qf6,Rxc5,bxc5,Nbc4,Rfd8,Qc1,Bd3,Nxd3,Rxd3,Qa3,Rad8,Qxc5,Rd1,Qxa7,Qa1,Nd2,R8xd2,Qb8+,Kg7,Qc7+,Rd7', 'Qxd7+,Rxd7,Rxa1', 'https://lichess.org/training/RMi8M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RMIsM', 'Rapid', 'VAAIVL535', 1785, 'Psymonpov', 1766, 'd4,d5,c4,Nf6,Nc3,e6,Bf4,Bb4,e3,O-O,a3,Bxc3+,bxc3,Nc6,cxd5,Nxd5,Bb5,Nxc3,Qb3,Nxb5,Qxb5,a6,Qd3,Qd5,Nf3,Qa5+,Nd2,Qd5,O-O,e5,Bg3,e4,Nxe4,Bf5,f3,Rac8,Rac1,Rfe8,Rc5,Bxe4,fxe4,Qxe4,Qxe4,Rxe4,Re1,Re7,Rcc1,Nd8,d5,f6,e4,Nf7,Rb1,b6,Rbd1,Rd7,e5,fxe5,Bxe5,Rcd8,Bg3,c6,Bf2,b5,Bb6,Rb8', 'dxc6,Rxd1,Rxd1', 'https://lichess.org/training/RMIsM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmIza', 'Rapid', 'cvvand', 1718, 'Vadim757', 1729, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Qf6,Nxc6,Qxc6,Bd5,Qf6,Nc3,Bc5,O-O,Ne7,a3,a6,Qe2,d6,Be3,Qg6,Bxc5,Bh3,Qf3,Bg4,Bxf7+,Qxf7,Qxg4,dxc5,Rfe1,O-O,Rad1,Rad8,Rxd8', 'Qxf2+,Kh1,Qxe1#', 'https://lichess.org/training/RmIza');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMj5F', 'Classical', 'Daniel1924', 1837, 'Paul205', 1831, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,Bf5,Nf3,dxe5,fxe5,e6,Bd3,Bxd3,Qxd3,c5,Bg5,Qd7,Nc3,cxd4,Nxd4,Nc6,Rd1,Nxe5,Qe3,Nexc4,Qf4,Nd5,Qf2,Bc5,O-O,O-O,Qg3,e5,Bh6,f6,Kh1,Bxd4,Nb5,Rf7,Nxd4,exd4,Rxd4,Qc6,Rc1,Qb5,Rdxc4,Nb6,Rg4,g6', 'Rxg6+,hxg6,Qxg6+,Kh8,Qxf7', 'https://lichess.org/training/rMj5F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMJGZ', 'Classical', 'hamery93', 1674, 'berkayozd', 1783, 'c4,e5,Nc3,Nc6,g3,f5,Bg2,f4,Nf3,d6,d4,Bg4,Qb3,Bxf3,Bxf3,Nxd4,Qxb7,Nc2+,Kf1,Rb8,Qxa7,Nxa1,Bc6+,Ke7,Nd5+,Kf7,Nxc7,Ne7,Nd5,Rc8,Nxe7,Bxe7,Bd5+,Ke8,gxf4,Rc7,Qa3,Nc2', 'Qa4+,Qd7,Qxc2', 'https://lichess.org/training/rMJGZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmJJ8', 'Rapid', 'Rahib61', 1822, 'NicolasBelchior', 1869, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,d4,Bf5,h3,e6,Nf3,Nf6,O-O,Bd6,c3,O-O,a3,Rc8,Bg5,Be7,Nh4,h6,Nxf5,exf5,Bf4,Bd6,Bxd6,Qxd6,Nd2,Rfe8,Nf3,Ne4,Nh4,Qf6,Nf3,Rcd8,Re1,Ne7,Ne5,Nc6,Nd3,b6,f3,Nd6,Bxd5,Rxe1+,Qxe1,Ne7,Ba2,Ng6,Ne5,Re8,Bxf7+,Nxf7,Qg3,Nfxe5,dxe5,Rxe5,f4,Re4,Qf3,Nxf4,Rd1,Qe7,Qf2,Qg5,Qf3,Kh7,Rd7,Re3,Qxe3', 'Qxg2#', 'https://lichess.org/training/RmJJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmjtJ', 'Rapid', 'Mathew_Royalking', 1685, 'joaopedro66', 1645, 'd4,e6,Bf4,Nf6,Nf3,Be7,e3,O-O,Nbd2,d5,Bd3,c5,c3,c4,Bc2,b5,Ng5,h6,Ngf3,a5,b3,Nbd7,bxc4,bxc4,h3,a4,g4,Ba3,g5,hxg5,Bxg5,Bb2,Rb1,a3,Rg1,Bxc3,Ne5,Nxe5,dxe5,Bxe5,f4,Bb2,Rg4,g6,Rh4,Kg7,Nf3,Rh8,Rxh8,Qxh8,Rxb2,axb2', 'Bxf6+,Kxf6,Qd4+,Ke7,Qxh8', 'https://lichess.org/training/RmjtJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RMl2Z', 'Rapid', 'Coccia1', 1705, 'fhf758', 1814, 'd4,d5,Nf3,e6,g3,c5,Bg2,cxd4,O-O,Nc6,c3,dxc3,bxc3,Nf6,Bg5,h6,Bxf6,Qxf6,Qa4,Bb4,Nd4,Bd7,Nxc6,Bxc3,Nxc3,Qxc3,Rac1,Qd2,Qg4,Bxc6,Qxg7,Rf8,Qf6,Qxe2,Rce1,Qxa2', 'Rxe6+,fxe6,Qxe6+,Kd8,Qd6+', 'https://lichess.org/training/RMl2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmLFl', 'Blitz', 'Theloq95', 2143, 'WCM Jaqueline142', 2195, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nc6,Be3,e5,dxc5,Qxd1+,Kxd1,Bf5,Bc4,O-O-O+,Ke1,Nf6,Nf3,Ng4,b4,Nxe3,fxe3,g5,Nbd2,h6,e4,Bg4,Bxf7,Bg7,h3,Bxf3,Nxf3,Rd3,Rc1,Rf8,Be6+,Kc7,Bd5,Ne7,Ke2,Nxd5,Kxd3,Nf4+,Kc4,Nxg2,Nd2,Rf2,Nb3,Rxa2,b5,Bf8,Kb4,Nf4,h4,Nd3+,Kc4,Nxc1,Nxc1,Rg2,hxg5,hxg5,Rh7+,Kc8,Rh8,Rf2,Nd3,Rf6,Nxe5,Kd8,c6,bxc6,Nxc6+,Kc7,Rh7+,Kb6,Rxa7', 'Rxc6+,bxc6,Kxa7,c7,Kb7', 'https://lichess.org/training/RmLFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmLgQ', 'Rapid', 'Gtnh', 2013, 'pey111', 1625, 'e4,e5,Nf3,d6,Bc4,Nf6,d4,Be7,Nc3,exd4,Nxd4,O-O,O-O,b6,Nd5,Bb7,Nxe7+,Qxe7,f3,d5,exd5,Bxd5,Nf5,Qc5+,Be3,Qxc4,Ne7+,Kh8,b3,Qb5,c4,Bxc4,bxc4,Qxc4,Rc1,Qe6,Bf2,Qxe7,Re1,Qb4,Rxc7,Qb5,Ree7,Qd5,Qa4,Qd2,Rxa7,Rxa7,Qxa7,Nc6,Qxb6,Nxe7,h3,Ned5,Qd6,Qd1+,Kh2,Qa4,Qxf8+,Ng8,Qxf7,Ndf6,Qb3,Qf4+,Bg3,Qg5,a4,Nh5,Bc7,Qe7,Qc4,Nhf6,a5,Qd7,a6,Nd5,Be5,Nb6,Qf1,h6,Qa1,Qa7,Bd4,Nf6', 'Bxb6,Qxb6,a7', 'https://lichess.org/training/RmLgQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmNMl', 'Rapid', 'Akellaz', 1781, 'OnceKnightly', 1731, 'e4,e6,d4,d5,e5,Be7,Nf3,g5,h4,g4,Ng5,h5,Be3,Nh6,Bd3,Nc6,c3,Bd7,Qd2,Na5,Nxe6,fxe6,Bg6+,Nf7,Bg5,Kf8,Qf4,Be8,Nd2,Kg7,Bc2,Nxg5,hxg5,Bxg5,Qg3,Bg6,Bxg6,Kxg6,Rd1,Qf8,f3,gxf3,Nxf3,Qf4,Nh4+,Kg7,Rd3,Qc1+,Rd1,Qe3+,Qxe3,Bxe3,Rd3,Nc4,b3,Bg5,bxc4,dxc4,Rg3,Kh6,Nf3,Rhg8,Nxg5,Rxg5,Rxg5,Kxg5,Rh3,Kg4,Kf2,h4,Rf3,Kg5,Rh3,a5,g3,hxg3+,Rxg3+,Kh4,Rg1,Rf8+,Ke2,b5,Rf1,Rg8', 'Rh1+,Kg4,Rg1+,Kf4,Rxg8', 'https://lichess.org/training/RmNMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rmo6a', 'Classical', 'ChessAlekhing98GB_A', 1736, 'fuubian', 1711, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Bb5+,Bd7,Bxd7+,Nxd7,Nc3,Bg7,Be3,e6,O-O,Ne7,g3,O-O,a3,Rc8,Nce2,b6,Rc1,Nc6,c3,Nxd4,Bxd4,Bh6,Rc2,Bg7,Bxg7,Kxg7,f4,Nc5,f5,Nxe4,fxe6,fxe6,Qd4+,Nf6,Nf4,Qd7,Qe3,e5,Ng2,Ng4,Qe2,Rxf1+,Qxf1,Qc6,h3,Qc5+,Kh1,Ne3,Nxe3,Qxe3,Rf2,Qxg3,Rf7+,Kh6,Qc1+,Qg5', 'Rxh7+,Kxh7,Qxg5', 'https://lichess.org/training/Rmo6a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMO6b', 'Classical', 'nayf', 1972, 'JotaFon', 1824, 'd4,c6,c4,d5,Nc3,e6,Nf3,Bb4,Bg5,f6,Bh4,dxc4,e4,b5,Ne5,Ne7,Qh5+,Ng6', 'Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/rMO6b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMpMZ', 'Rapid', 'Kirito0beater', 2006, 'Rndrps', 1948, 'e4,c5,Nc3,e6,g3,d5,exd5,exd5,d4,Nf6,Bg2,Nc6,Nf3,Be7,O-O,O-O,dxc5,Bxc5,Bg5,d4,Nb5,Bg4,h3,a6,hxg4,axb5,Qd3,h6,Bh4,b4,g5,hxg5,Nxg5,g6,Ne4,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Rfd1,Rfe8,Bxc6,bxc6,Qxd4', 'Re1+,Kg2,Qxd4,Rxd4,Rxa1', 'https://lichess.org/training/rMpMZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMq2v', 'Classical', 'Fac2nd', 1770, 'elschemali', 1711, 'e4,c5,Nf3,Nc6,Nc3,a6,a3,e6,Bc4,b5,Ba2,c4,d4,d5,O-O,Be7,exd5,exd5,Re1,Nf6,Bg5,O-O,b3,h6,Bh4,Re8,Ne2,Ne4,Bxe7,Nxe7,bxc4,bxc4,c3,Bf5,Bb1,Ng6,Bxe4,Bxe4,Ng3,Bd3,Rxe8+,Qxe8,Ne1,Nf4,Qf3,Ne2+,Nxe2,Bxe2,Qxd5,Rb8,Qa5,Qe4,Qxa6', 'Rb1,Rxb1,Qxb1', 'https://lichess.org/training/rMq2v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMQ6u', 'Classical', 'podlanicca', 1789, 'walidd', 1739, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Bb5,Bg7,Nxc6,bxc6,Bd3,Qb6,O-O,Nf6,c3,O-O,Nd2,d6,Nf3,Bg4,h3,Bxf3,Qxf3,Nd7,Rb1,Qa5,a3,Ne5,Qd1,Rab8,b4,Qb6,Be3,Qc7,c4,a5,f4,Nxd3,Qxd3,axb4,axb4,Rb7,Rfc1,Qb8,c5,Rxb4,Rxb4,Qxb4,cxd6,Rd8,e5,exd6,Rb1,Qa5', 'Bb6,Qa4,Bxd8', 'https://lichess.org/training/rMQ6u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmqEk', 'Classical', 'limitmix', 1892, 'Kiselyov_Denis', 1884, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nf3,d6,Nc3,g6,Bb5,Bg7,d5,a6,dxe6,fxe6,Ba4,b5,Bb3,Na5,Bf4,Nxb3,axb3,d5,exd5,exd5,Nxb5,Bxb2,Nc7+,Kf8,Rb1,Bc3+,Nd2,Qe7+,Kf1,Bxd2,Qxd2,Ra7,Qxd5,Nf6,Bd6', 'Nxd5,Bxe7+,Nxe7', 'https://lichess.org/training/RmqEk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmrTD', 'Blitz', 'Uchin_Crbn', 2212, 'FM KurisuMakise', 2385, 'e4,e6,f4,d5,e5,c5,Bb5+,Bd7,a4,Nc6,Nf3,h5,O-O,Nh6,d3,Qb6,c4,a6,a5,Qd8,Bxc6,Bxc6,Nc3,dxc4,dxc4,Qxd1,Rxd1,Nf5,b3,Be7,Ba3,O-O,Kf2,Rfd8,g3,Kf8,Ke2,Nd4+,Nxd4,Rxd4,Rxd4,cxd4,Bxe7+,Kxe7,Nd1,Rd8,Kd3,Bg2,Nf2,f6,Re1,g5,exf6+,Kxf6,fxg5+,Kf5,Re2', 'Bf1,Kd2,Bxe2', 'https://lichess.org/training/RmrTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMSbr', 'Rapid', 'muhamedxnasser', 1767, 'veien', 1849, 'e4,c5,Nf3,Nc6,Bb5,Qc7,Nc3,Nf6,O-O,a6,Bxc6,Qxc6,d3,Qc7,Bg5,h6,Bxf6,gxf6,Nd5,Qd6,a4,Bg7,Re1,e6,Ne3,Rg8,Nc4,Qf4,Qd2,Qg4,Qe3,f5,exf5', 'Bd4,g3,Bxe3', 'https://lichess.org/training/rMSbr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmTeD', 'Blitz', 'Evil_chess', 2058, 'WIM PHOENIXME', 2288, 'e4,e6,Nc3,d5,f3,Nf6,Bb5+,c6,Ba4,Be7,Bb3,O-O,d3,a5,a3,b5,Ba2,b4,Nce2,Qb6,Bf4,Nh5,Bg3,Nxg3,hxg3,Bf6,Rb1,Na6,Nh3,Bb7,Nf2,Rad8,O-O,dxe4,fxe4,Qe3,Kh1,c5,Nh3,Bxe4,Qe1,Bb7,Nhf4,Nc7,Nh5,Qh6,g4,Be5,Kg1,Qg5,Neg3,Qxg4', 'Qxe5,Qd4+,Qxd4', 'https://lichess.org/training/RmTeD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMtEq', 'Rapid', 'Husam__Alhasan', 1963, 'Ayham70', 1946, 'd4,Nf6,c4,e6,Nc3,b6,e3,Bb7,Nf3,h6,Be2,Be7,O-O,d5,b3,dxc4,bxc4,O-O,Rb1,Ne4,Bb2,Nxc3,Bxc3,Be4,Nd2,Bxb1,Qxb1,Nd7,Bf3,Rb8,Qe4,c5,Qg4,Nf6,Qg3,Qd6,Qh3,Rfd8,Rd1,cxd4,exd4,Qf4,g3,Qg5,Ne4,Nxe4,Bxe4,f5,Bf3,Bf6,Bd2,Qg6,Bh5,Qh7,Bc3,g6,Bf3,Qg7,g4,Bxd4,Bxd4,Rxd4,Rxd4,Qxd4,Qxh6,Qg7,Qe3,e5,Bd5+,Kh7,g5,Qh8,Qa3,a5,Qd6,Qe8,Qf6,e4', 'Bf7,Qg8,Bxg8+', 'https://lichess.org/training/rMtEq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RMTLR', 'Blitz', 'henriqueninho', 1745, 'novusastra', 1774, 'e4,e5,Nc3,Nc6,Nge2,d6,d4,exd4,Nxd4,Ne5,Bf4,Ng6,Bg3,Nf6,Bd3,Be7,O-O,O-O,f4,Ng4,Qe2,Bh4,f5,Bxg3,Qxg4,Be5,Nf3,c6,Rad1,b5,Nxe5,Nxe5,Qe2,Qb6+,Qf2,Qc7,Ne2,Ng4,Qg3,Qb6+,Kh1,Ne3,f6,g6,Qh4,Kh8,Qh6,Rg8,Rf4,Nxd1', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/RMTLR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RmUhB', 'Blitz', 'copetong12', 2037, 'SBogdan', 1862, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Be6,Bxe6,fxe6,fxe5,Nxe5,O-O,Nxf3+,Qxf3,Nf6,d4,e5,Bg5,Be7,dxe5,dxe5,Nc3,O-O,Rad1,Qd4+,Be3,Qc4,Qg3,Nxe4,Qxe5,Nxc3,Rxf8+,Rxf8,bxc3,Bd6,Qg5,b6,Bd4,Qf7,h4,h6,Qg4,c5,Bxg7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/RmUhB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rmVek', 'Blitz', 'julianc2018', 1675, 'ema08mr778', 2024, 'e3,e5,d3,Qf6,Qe2,Bd6,Bd2,Na6,Bc3,Bc5,e4,Qg5,g4', 'Qc1+,Qd1,Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/rmVek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RMvgp', 'Rapid', 'ruslan75', 1650, 'tamiris', 1982, 'e4,c5,Nf3,e6,d4,cxd4,Qxd4,Nc6,Qe3,Nf6,Nc3,Bb4,Bd2,O-O,h3,d6,Bb5,Bc5,Qd3', 'Nb4,Qe2,Nxc2+', 'https://lichess.org/training/RMvgp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rmw7i', 'Rapid', 'BombaySapphire', 1651, 'Masso1b', 1692, 'e4,e5,d4,exd4,e5,Nc6,f4,d6,Bb5,dxe5,fxe5,Qd5,Bxc6+,bxc6,Nf3,Bg4,Qxd4,Qa5+', 'Bd2,Qd5,Qxg4', 'https://lichess.org/training/Rmw7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMwQU', 'Rapid', 'Cheochess', 1916, 'ElysiumKing', 1889, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,exf6,dxc4,fxg7,Bxg7,Bg5,Qd5,Nbd2,Be6,O-O,f6,Bh4,O-O-O,a4,Rhg8,Bg3,Bg4,Ra3,Ne5,Bxe5,fxe5,Re1,Bh6,Ne4,Rdf8,Kf1,Rf4,h3,Bf5,Nf6,Qe6,Nxg8,Qxg8,Nxe5,Be4,f3,Bd5,Qd2', 'Rxf3+,Rxf3,Bxd2', 'https://lichess.org/training/rMwQU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rMyX1', 'Rapid', 'vahan1964', 1986, 'VikTor-62', 2025, 'd4,e6,c4,d5,Nc3,Nf6,a3,c5,e3,Nc6,Nf3,dxc4,Bxc4,cxd4,Nxd4,Bc5,Nce2,O-O,O-O,Nxd4,exd4,Bb6,Be3,Nd5,Rc1,a5,Qc2,Qd6,Bd3,f5,Rfe1,Bd7,Qd2,f4,Nxf4,Nxf4,Be4,Bc8,g3,Nh5,Qd3,Nf6,Bg2,e5,d5,Bc7,Qc4,b5', 'Qxc7,Qxc7,Rxc7', 'https://lichess.org/training/rMyX1');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 30;
-    }
-
-}
\ No newline at end of file
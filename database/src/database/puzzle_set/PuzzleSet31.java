@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet31 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rn05I', 'Classical', 'Kannaa', 1611, 'Lucamarian2011', 1609, 'e4,e6,d4,d5,e5,c5,c4,Nc6,Nf3,Qb6,Be3,Qxb2,Nbd2,cxd4,cxd5,dxe3,dxc6,exd2+,Nxd2,Qxe5+,Be2,bxc6,O-O,Bd6,g3,Bb7', 'Nc4,Rd8,Nxe5', 'https://lichess.org/training/rn05I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RN2Rg', 'Rapid', 'daviderr', 1686, 'corchetero', 1685, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,exd4,Nxd4,c5,Nf3,Qxd1+,Kxd1,Bg4,h3,Bh5,g4,Bg6,Nc3,O-O-O+,Ke2,f6,g5,Bh5,h4,Bd6,Ke3,Ne7,Rg1,f5,e5,Bxf3', 'exd6,Bc6,dxe7', 'https://lichess.org/training/RN2Rg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rn56G', 'Classical', 'mparsa', 1605, 'Vledkem', 1716, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,exd4,e5,Ng4,Bxf7+,Kf8,Bg5,Be7,Bxe7+,Qxe7,Bb3,Ngxe5,Nxe5,Nxe5,Re1,Qg5,f4,Nf3+,Qxf3,Qc5,Qe4,d3+,Re3,g6,Qe8+,Kg7,Qf7+,Kh6,Kf2,dxc2,Nc3,d6,Bxc2,Bf5,Bxf5,Rhf8,Qe7,Rxf5,Qh4+,Kg7,Ne4,Qe5,Ng3', 'Rxf4+,Qxf4,Qxf4+', 'https://lichess.org/training/rn56G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RN5sC', 'Rapid', 'Kudryavtsev_Boris', 1939, 'GVestH', 2098, 'e4,d6,d4,e5,dxe5,Nc6,exd6,Bxd6,Nc3,Qe7,Be3,Nf6,f3,Bd7,Nd5,Nxd5,Qxd5,Be6,Qb5,O-O,a3,a6,Qg5,f6,Qh4,Be5,c3,Rad8,Ne2,Na5,Nd4,Bc4,Kf2,Bxf1,Rhxf1,Nc4,Rab1,Nxe3,Kxe3,Bxd4+,cxd4,Qd6,Rfd1,f5,e5,Qd5,b4,Qa2,Qf2', 'f4+,Kd3,Qxf2', 'https://lichess.org/training/RN5sC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rn9jd', 'Blitz', 'unknown210', 1701, 'AndresAcosta', 1719, 'e4,e5,Nf3,d6,Nc3,Nc6,d3,g6,Be2,Bg7,O-O,f5,exf5,Bxf5,Re1,Qd7,Ne4,d5,Nc5,Qc8,c4,b6,cxd5,Nb4,Ne6,Bxe6,dxe6,Qxe6,Ng5,Qd7,d4,Qxd4,Qa4+,Ke7,Be3,Qd6,Rad1,Nd5,Bc4,c6,Bxd5,cxd5,Bd2,a5,b4,Nf6,bxa5,bxa5,f4,e4,Bc3,h6,Nxe4,Qb6+,Nf2+,Ne4,Bxg7,Qxf2+,Kh1,Rhg8,Bxh6,Rh8,Bg5+,Kd6,Rxe4', 'Rxh2+,Kxh2,Rh8+,Bh6,Rxh6#', 'https://lichess.org/training/Rn9jd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rnae0', 'Blitz', 'Cagnozzo65', 1687, 'Blatnbar', 1777, 'd4,d5,e3,c6,c3,Bf5,h3,h6,Ne2,Nd7,b3,Ngf6,Ng3,Bh7,Bd3,Ne4,Nxe4,dxe4,Be2,Nf6,a4,e6,Ba3,Bxa3,Nxa3,Qd6,Nc4,Qd5,O-O,O-O,b4,Qd8,Ne5,Nd5,Qe1,f6,Nc4,a6,a5,Qe7,Bg4,Qf7,Nd6,Qd7,Nc4,Rae8,Qc1,Qf7,Nd6,Qg6,Nxe8,Rxe8,Bxe6+,Rxe6,Rb1,f5,c4,Nf6,d5,cxd5,cxd5,Nxd5,Qc8+,Kf7,Qxb7+,Ne7,Rbd1,Qf6,Rd7,g5,Rfd1,f4,exf4,gxf4,Rxe7+,Rxe7,Rd7,Bf5,Rxe7+,Qxe7,Qxa6,Qxb4,Qa7+,Qe7,Qd4,e3,Qd5+,Be6,Qh5+,Kg7,Qe5+,Kg6,Qxf4,exf2+,Qxf2,Bf5,Qb6+,Kg5,a6,Qe6,Qb5,Qe3+,Kh1,h5,Qb8,Qe4,a7,Bxh3,Qg3+,Bg4,Qe5+,Qxe5,a8=Q,Qe1+,Kh2,Qh4+,Kg1,Qe1+,Kh2,Qe5+,Kg1,Kh4,Qa3,Qe1+,Kh2,Qf2', 'Qe7+,Qf6,Qxf6#', 'https://lichess.org/training/rnae0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RNDE6', 'Rapid', 'Vasilroztripenko1', 2027, 'stimpi', 1943, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qf3,dxc6,Bc4,Be6,Bxe6,Qxe6,O-O,Nf6,Bg5,Nxe4,Bf4,O-O,Nd2,Nxd2,Bxd2,Rae8,Bc3,Qg6,Rad1,Re7,Rd3,Rfe8,h3,Bb6,Rfd1,Bc5,Rd8,Bd6,Rxe8+,Rxe8,Rd3,a6,g3,Re4,Kg2,h5,h4,Rxh4,Re3,Rf4,Re8+,Kh7,Qe2,h4,Bd2,Rg4,Qf1,Rxg3+,fxg3', 'Qxg3+,Kh1,Qh2#', 'https://lichess.org/training/RNDE6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rnDfD', 'Blitz', 'alexyarovoy85', 1991, 'seka33', 2161, 'e4,e6,Nc3,d5,g3,d4,Nce2,c5,d3,e5,Bg2,Nc6,Nf3,Bd6,O-O,Nge7,h3,O-O,Ne1,f5,exf5,Bxf5,f4,Qd7,Kh2,Be6,Nf3,exf4,Bxf4,Nd5,Qd2,Bxf4,Nxf4,Ne3,Ng5,Nxf1+,Rxf1,Bf5,g4,h6,Bd5+,Kh8,gxf5,hxg5,Ng6+,Kh7,Be6,Qd6+,Kh1,Qxe6', 'Nxf8+,Rxf8,fxe6', 'https://lichess.org/training/rnDfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rneaZ', 'Classical', 'Vena', 1817, 'sjs1122', 1838, 'c4,c5,Nc3,Nc6,Nf3,g6,e3,Bg7,Be2,Nf6,O-O,O-O,a3,b6,Rb1,Bb7,b4,d6,d4,Nd7,Na2,Rc8,d5,Nce5,b5,e6,e4,Nxf3+,Bxf3,Nf6,Qb3,Nd7,g3,Ne5,Bg2,Qe7,f4,Nd7,Bb2,Bxb2,Rxb2,Rfe8,Nc3,Qf6,Rd2,e5,f5,Qg5,Rd3,Nf6,fxg6,hxg6,Rdf3,Ng4,Nd1,Qh5,h3,Nh6,g4,Qh4,Rf6,Nf5,R6xf5,gxf5,Rxf5,Rc7,Qe3,f6', 'Rh5,Qxh5,gxh5', 'https://lichess.org/training/rneaZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rnemR', 'Classical', 'arsham1385', 1755, 'U888', 1801, 'e4,c5,f4,d6,Nf3,Bg4,Be2,Nc6,c3,Nf6,d3,g6,O-O,Bg7,Be3,O-O,Nbd2,b5,Re1,e6,Nf1,d5,e5,Nd7,Ng3,Qb6,a3,a5,Qd2,d4,cxd4,Bxf3,Bxf3,Nxd4,Bxd4,cxd4,Ne4,Bh6,g3,Rab8,Rec1,Nxe5,Qf2,Nxd3,Qd2,Nxc1,Rxc1,Rfc8,Nf6+,Kg7,Nd7,Rxc1+,Qxc1,Qd6,Nxb8,Qxb8,Qc5,d3,Qc3+,e5,fxe5,Be3+,Kg2,Qd8,e6+,Bd4', 'e7,Qxe7,Qxd4+', 'https://lichess.org/training/rnemR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNeqh', 'Rapid', 'feufollet', 1706, 'firdaus71', 1761, 'e4,e5,Nf3,d6,Bc4,Bg4,c3,Qf6,Qb3,b6,Be2,Ne7,d4,Nec6,Bg5,Qg6,h4,h6,Be3,Be7,Nbd2,O-O,O-O-O,a5,a4,exd4,Nxd4', 'Nxd4,Bxd4,Bxe2', 'https://lichess.org/training/rNeqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RNEWj', 'Rapid', 'Firkho', 2127, 'lavrio', 2132, 'e4,b6,d4,Bb7,Bd3,e6,Nf3,c5,c3,cxd4,cxd4,Nc6,a3,Be7,Nc3,d6,Qa4,Qd7,d5,exd5,exd5,Bf6,dxc6,Bxc6,Qb3,Bxf3,gxf3,Qe7+,Be3,Bh4,Nd5,Qe5,f4,Qh5,Nc7+,Kd8,Nxa8,Qf3,Rg1,Qxe3+,Kd1,Qf3+,Kc2,Qxf2+,Kc3', 'Bf6+,Kb4,Qc5+,Ka4,Qa5#', 'https://lichess.org/training/RNEWj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RNFiS', 'Rapid', 'salvadorbarca', 1802, 'waqtkibarbadi', 1896, 'e4,c5,f4,d6,Nf3,Nc6,Bc4,Nf6,d3,e5,fxe5,Nxe5,Nxe5,dxe5,O-O,Be7,Bg5,O-O,Nc3,a6,Nd5', 'Nxd5,Bxd5,Bxg5', 'https://lichess.org/training/RNFiS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNG61', 'Rapid', 'majid141', 2123, 'adinsx', 2087, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Ne2,c5,c3,Nc6,O-O,Qb6,a3,a5,Nd2,h5,h3,Nh6,Nf3,Nf5,Be3,Be7,dxc5,Bxc5,Bxc5,Qxc5,Ned4,Nfe7,Nb5,O-O,b4,Qb6,Rfe1,Ng6,Nbd4,Rfc8,Nb5,Nce7,Nd6,Rc6,Qd4,Qc7,b5,Rc5,Ng5,Rf8,Ndxf7,Rxf7', 'Nxe6,Qc8,Nxc5', 'https://lichess.org/training/rNG61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNg7t', 'Rapid', 'chess0123', 1677, 'agnostico', 1660, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,Bc5,Nf3,d6,Nc3,Nf6,Bg5,h6,Bxf6,Qxf6,a3,Bg4,Be2,Bxf3,Bxf3,Nd4,Nd5,Nxf3+,Qxf3,Qxf3,gxf3,O-O-O,b4,Bd4,c3,Bf6,Nxf6,gxf6,O-O-O,Rhg8,Rhg1,Rg5,f4,Rh5,Rg2,Kd7,f5,Re8,f3,Rh3,Rd3,c6,Kc2,b5,Kd2,a6,Ke2,Re5,Re3,d5,exd5,Rxe3+,Kxe3,cxd5,Kf4,Kd6', 'Kg4,Rxf3,Kxf3', 'https://lichess.org/training/rNg7t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rnGbb', 'Rapid', 'willjrx', 1966, 'Saeed_tz', 1833, 'd4,e6,e4,d5,e5,c5,Nf3,Nc6,c3,Qb6,h3,Bd7,Be2,cxd4,cxd4,Rc8,O-O,Nb4,Nc3,Ne7,Rb1,a6,Qb3,Qa5,a3,Nbc6,Qxb7,Nf5,Bxa6', 'Rb8,Qxb8+,Nxb8', 'https://lichess.org/training/rnGbb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNgMg', 'Rapid', 'Zeeshan_sm', 1658, 'mortan1', 1647, 'e4,e6,d4,d5,exd5,exd5,Nf3,c5,Qe2+,Be6,Nc3,Nc6,dxc5,Bxc5,Ne5,Nxe5,Qxe5,Ne7,Bb5+,Bd7,Bxd7+,Qxd7,Nxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/rNgMg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNHAx', 'Blitz', 'Arifars17', 2524, 'IM datajunkie', 2644, 'e4,g6,d4,Bg7,c3,d6,f4,c5,Nf3,cxd4,cxd4,Bg4,Qa4+,Nd7,Nc3,a6,Be3,b5,Qb3,Ngf6,Be2,Nb6,a4,bxa4,Nxa4,Nxa4,Qxa4+,Bd7,Qc2,d5,e5,Ng4,Bd2,O-O,O-O,f6,Qb3,Be6,Rxa6,Rxa6,Bxa6,fxe5,fxe5,Nh6,Ng5,Bf5,Bb7,e6,Rxf5,Rxf5,Nxe6,Qh4,g3,Qe4,Bf4,Ng4,Bxd5,Qe1+,Kg2,Qf2+,Kh3', 'Qxh2+,Kxg4,Qh5#', 'https://lichess.org/training/rNHAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNIl4', 'Blitz', 'CM Manfredo64', 2253, 'Favorita', 2176, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nc3,Be7,Bd3,Nc6,Nge2,O-O,Be3,d5,c5,Nc4,Bxc4,dxc4,O-O,Bf5,d5,Ne5,Nd4,Bd3,Re1,Bxc5,f4,Nd7,Bf2,Qf6,Ne4,Bxe4,Rxe4,Rfe8,Qe2,Rxe4,Qxe4,g6,Rc1,Kf8,Rxc4,Re8,Qc2,Bb6,Rxc7,Bxc7,Qxc7,Nb6,Qxb7,Qxf4,g3,Qc1+,Kg2,Rd8,Qxa7,Nxd5,Qa5,Rd7,Qb5,Qc8,Nc6,Nf6,Qc5+,Kg8', 'Ne7+,Rxe7,Qxc8+', 'https://lichess.org/training/rNIl4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNkbc', 'Blitz', 'J-O-E-Y', 1675, 'h4ch3', 1657, 'e4,e5,f4,Nc6,Nf3,d6,Bb5,Bg4,Bxc6+,bxc6,O-O,Nf6,d3,Be7,f5,O-O,Be3,c5,Nc3,d5,Bg5,d4,Bxf6,Bxf6,Nd5,c6,Nxf6+,Qxf6,Qd2,Bxf3,Rxf3,h6,Qa5,Qd6,Raf1,f6,Qd2,Rab8,c3,Qd7,Rh3,Qb7,b3,dxc3,Qxc3,Qb4,Qc1,Qd4+,Kh1,Rbd8,Rff3,Rd7,Rfg3,Kh8,Rxh6+,gxh6', 'Qxh6+,Rh7,Qxf8#', 'https://lichess.org/training/rNkbc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RNkkV', 'Blitz', 'GM BMWHero', 2614, 'MAAAAL123', 2352, 'b3,e5,Bb2,Nc6,Nf3,d6,d4,e4,d5,Nce7,Ng5,e3,fxe3,Nf5,e4', 'Ne3,Qd3,Qxg5', 'https://lichess.org/training/RNkkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNkVc', 'Classical', 'Akellaz', 1754, 'Capablanstein', 1681, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e5,Nf5,g6,Ng3,Nbd7,Nd5,Qa5+,c3,Bg7,b4,Qd8,Be2,h6,Nxf6+,Nxf6,Be3,b5,a4,Be6,axb5,axb5,Bxb5+,Bd7,Bxd7+,Nxd7,Rxa8,Qxa8,O-O,Qc6,Qb3,O-O,f4,exf4,Bxf4,Bxc3,Bxh6,Ne5,Bxf8,Kxf8,Rc1', 'Bd4+,Kf1,Qxc1+', 'https://lichess.org/training/rNkVc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNl27', 'Rapid', 'Mavericks', 1712, 'Alex_Gorik', 1700, 'e4,c5,Bc4,e6,d3,Qc7,Nc3,a6,a4,Nc6,Nh3,Bd6,Ng5,Nge7,Qf3,f6,Nh3,b6,Bd2,Nd4,Qh5+,g6,Qd1,Bb7,Ne2,Nec6,c3,Nxe2,Qxe2,Ne5,Ba2,O-O-O,b4,f5,bxc5,bxc5,Bf4,Qa5,O-O,Qxc3,Rfc1,Qd4,Bxe5,Qxe5,f4,Qd4+,Kf1,fxe4,dxe4,Qxe4,Qxe4,Bxe4,Re1,Bc6,Bc4,Kb7,Rab1+,Ka7,a5,Bc7,Rec1,Rhf8,g3,e5,Be2,d6,Rb2,h6,Rcb1,g5,Kg1,gxf4,gxf4,exf4,Nf2,Rg8+,Kf1,Bg2+,Ke1,Bxa5+,Kd1,Bb4,Nd3,Be4,Nxb4,Rg1+,Kd2,Rxb1,Rxb1,Rb8,Bd3,Bxd3', 'Nc6+,Ka8,Rxb8#', 'https://lichess.org/training/rNl27');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RnLVo', 'Rapid', 'Sharbafff', 1957, 'damin_gambit', 2043, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e4,d6,d4,exd4,Nxd4,Nxd4,Qxd4,Be7,f3,O-O,Be2,Bd7,Be3,Re8,O-O,c6,Rfd1,h6,Bf4,d5,cxd5,cxd5,Nxd5,Nxd5,Qxd5,Qb6+,Qd4', 'Bc5,Be3,Bxd4', 'https://lichess.org/training/RnLVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RNMVy', 'Rapid', 'JuanPabloHH', 2080, 'Incir_Lokumu', 1832, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,d3,Nc6,Be2,Bc5,Be3,Bb6,O-O,h6,Nd2,Bf5,Bf3,Qd6,Nc4,Qd7,Bxc6,Qxc6,Nxe5,Qb5,Bxb6,axb6,Re1,O-O,b3,Rfe8,Nf3,Bg4,Rxe8+,Rxe8,h3,Bh5,g4,Bg6,Nh4,Qe5,Nxg6,fxg6,Rb1,Qf4,Kg2,h5,Qf3,Qd2,Qd1,Qf4,c3,h4,Qf3,g5,Qxf4,gxf4,Kf3,g5,Rb2,Kf7,Re2,Rd8,d4,c5,dxc5,Rd3+,Kg2', 'f3+,Kf1,fxe2+', 'https://lichess.org/training/RNMVy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rnn3G', 'Rapid', 'ThatGuyOnCnn', 1615, 'Fancybro', 1681, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Be2,a6,O-O,Nf6,Nc3,Bb4,f3,O-O,Kh1,d5,e5,Nxe5,f4,Nc6,Bf3,Re8,a3,Bc5,Be3,e5', 'Nxc6,bxc6,Bxc5', 'https://lichess.org/training/Rnn3G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RNNfd', 'Rapid', 'carmalt91', 1839, 'AyazAfandiyev', 1807, 'e4,c5,c3,Nc6,Nf3,b6,Bb5,Bb7,d3,g6,Bxc6,Bxc6,O-O,Bg7,Re1,e6,Bg5,Ne7,Nbd2,O-O,Bxe7,Qxe7,Re2,Qd8,e5,Bxf3,Nxf3,d5,exd6,Qxd6,Qc2,Rad8,Rd1,e5,Rdd2,Bh6,Rd1,c4,Nxe5,cxd3,Nxd3,Rc8,g3,Rfd8,f4,Bg7,Ree1,Qc6,Re7,Bd4+,Kf1,Qf3+,Nf2', 'Bxf2,Rxd8+,Rxd8', 'https://lichess.org/training/RNNfd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNPna', 'Classical', 'bestofchess01', 1796, 'adelsonab', 1682, 'e4,d6,d4,c6,g3,h5,Bg2,Bg4,Nf3,f6,O-O,g5,Nc3,a5,Qd3,b5,d5,b4,Na4,c5,a3,Nd7,Be3,Nh6,axb4,axb4,c3,bxc3,Nxc3,Kf7,h3,Bxf3,Bxf3,Ne5,Qe2,g4,Bg2,Rxa1,Rxa1,Qd7,hxg4,hxg4,Ra8,Bg7', 'Rxh8,Bxh8,Bxh6', 'https://lichess.org/training/rNPna');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RNQL2', 'Blitz', 'Chess_playz121212', 1766, 'bratik1380', 1709, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,cxd6,Nf3,Bg4,h3,Bh5,Nc3,Nc6,Be3,Rc8,Bd3,Nb4,g4,Nxd3+,Qxd3,Bg6,Qd2,Nxc4,Qe2,Nxe3,fxe3,e6,O-O,Be7,e4,O-O,Rad1,a6,d5,e5,Qf2,b5,Ne2,Rc2,Rd2,Qc7,Nc3,Rxd2,Qxd2,b4,Ne2,Bxe4,Ng5,Qb6+,Kh2,Bxg5,Qxg5,Bxd5,h4,Bxa2,h5,f6,Qd2,h6,Ng3,Be6,Nf5,Bxf5,Rxf5,Rd8,Qd5+,Kh7,Qf7,Qc6,Qg6+,Kg8,Rxf6,Rd7,Qe8+,Kh7,Qg6+,Kg8,Re6,Rd8,Re8+,Rxe8,g5,Qd5', 'Qxe8+,Kh7,g6#', 'https://lichess.org/training/RNQL2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rnrAp', 'Blitz', 'sanesteban058', 2005, 'Mukhtar505', 1864, 'Nf3,d5,d4,e6,c4,Nf6,Nc3,c5,Bg5,Be7,e3,Nc6,Be2,h6,Bxf6,Bxf6,cxd5,exd5,O-O,cxd4,Nxd4,Nxd4,exd4,O-O,Bf3,Be6,Qb3,Qd7,Nxd5,Bxd5,Bxd5,Bxd4,Rad1,Qg4,Qxb7,Rab8,Bxf7+,Kh8,Qd5,Rxb2,Rxd4,Qe2,Re4,Qc2,Bg6', 'Qxf2+,Rxf2,Rb1+,Qd1,Rxd1+,Re1,Rxe1+,Rf1,Rfxf1#', 'https://lichess.org/training/rnrAp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rnSjA', 'Rapid', 'Corocotta', 1622, 'RafaelDM', 1641, 'e4,e6,d4,d5,e5,f6,f4,c5,c3,c4,Nf3,g6,Be2,Ne7,O-O,Bg7,Nbd2,fxe5,fxe5,O-O,Ng5,Nf5,Ndf3,Nc6,b3,b5,a4,Qa5,Bd2,bxa4,Rxa4,Qb5,bxc4,dxc4,Bxc4,Qb6,Nxe6,Bxe6,Bxe6+,Kh8,Ng5,Nxe5,Qe2,h6,Ra6,Qc7,dxe5,hxg5,Bxg5,Qxe5,Qxe5,Bxe5,Bxf5,gxf5,c4,Rf7,Re1,Bd4+,Kf1,Rc8,Ree6,Rxc4,Rh6+,Kg7,Rad6,Bc5', 'Rdg6+,Kf8,Rh8#', 'https://lichess.org/training/rnSjA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RNT3C', 'Blitz', 'MrDuncan2020', 2220, 'FM MillerDominguez', 2300, 'c4,Nf6,Nc3,e6,e4,d5,e5,d4,exf6,dxc3,fxg7,cxd2+,Qxd2,Qxd2+,Bxd2,Bxg7,O-O-O,O-O,Nf3,Nc6,Be3,e5,Bd3,f5,c5,Be6,Bb1,Rad8,a3,e4,Ng5,Bb3,Bc2,Bc4,b3,Bd5,b4,Bc4,Bf4,Ne5,Rxd8,Rxd8,Rd1,Nd3+,Bxd3,Bxd3,Ne6,Rd7,Nxc7,Bc3,Nb5', 'Bxb5,Rxd7,Bxd7', 'https://lichess.org/training/RNT3C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNTLj', 'Rapid', 'didenkoleonid', 1985, 'haritzen', 2008, 'd4,d5,Nc3,Nf6,Bf4,e6,e3,Bd6,Nge2,Bxf4,Nxf4,Nbd7,f3,O-O,e4,dxe4,fxe4,e5,dxe5,Nxe5,Qxd8,Rxd8,Bd3,Nxd3+,cxd3,c6,O-O-O,Ng4,Rd2,Rd4,h3,Ne5,Nce2,Rd6,d4,Nc4,Rc2,b5,e5,Rd8,b3,Nb6,Rxc6,Bf5,g4,Be4,Rxb6,Bxh1,Rd6,Rac8+,Kd2,Rxd6,exd6,Rd8,Nc3,Bc6,d5,Rxd6,Ke3,Bd7,Kd4,a6,Kc5,Rf6,Nd3,Kf8,Ne4,Rf3,Ne5,Rf4,Nxd7+,Ke8,Nb6,Rxe4,d6,Kd8,Kd5,Re3,h4,Re2,a4,bxa4,Nxa4,Rd2+,Kc6,Rd4,Nc5,Rxg4', 'Nb7+,Ke8,d7+,Ke7,d8=Q+', 'https://lichess.org/training/rNTLj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rntuf', 'Rapid', 'drgehlot2', 1911, 'HS981', 1809, 'e4,c5,g3,Nc6,Nc3,Nf6,Bg2,d6,Nge2,g6,d3,Bg7,O-O,O-O,h3,Bd7,Rb1,Qc8,Kh2,Ne5,Be3,h5,Qd2,a6,Bh6,b5,Bxg7,Kxg7,f4,Nc6,e5,dxe5,fxe5,Nh7,Nd5,Rb8,Qf4,Be6,Nec3,b4,Na4,Bxd5,Bxd5,e6,Bg2,Nd4,c3,bxc3,Nxc3,Nf5,Ne4,g5,Nxg5,Nxg5,Qxg5+,Kh8,Qxh5+,Kg7,Be4,Rh8,Qg5+,Kf8,Bxf5,exf5,Rxf5,Qe6,b3,Ke8,Rbf1,Rb7,Rf6', 'Qxh3+,Kg1,Qh2#', 'https://lichess.org/training/Rntuf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RNuH9', 'Blitz', 'leela2200', 2194, 'DVRazor', 2241, 'Nf3,Nf6,c4,e6,d4,b6,Bf4,Bb7,e3,Be7,h3,O-O,Nc3,d6,Qc2,h6,Be2,Nbd7,e4,c5,d5,exd5,exd5,Re8,O-O,Nf8,Rad1,Ng6,Bc1,Bf8,b3,Ne5,Nxe5,Rxe5,Bf4,Re8,Bf3,g6,Qc1,Kh7,Rfe1,Bg7,Nb5,Bf8,Rxe8,Nxe8,Bg4,a6,Nc3,Bg7,Kh1,Nf6,Bf3,Bc8,Bh2,Bf5,g4,Bc8,Re1,Ra7,Bg2,Re7,Rxe7,Qxe7,Qe3,Qxe3,fxe3,Nxg4,hxg4,Bxc3,Bxd6,Bxg4,Bc7,b5,a3,Kg7,d6,Be5,Bb7,Bd1,Bb8,bxc4', 'd7,Bf6,Be5,Bxe5,d8=Q', 'https://lichess.org/training/RNuH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNuuT', 'Rapid', 'Charly70', 1698, 'ShowTime1985', 1676, 'e4,c5,Nc3,g6,Bc4,Bg7,Nge2,Nc6,O-O,Nf6,d3,e5,Bg5,O-O,Nd5,d6,h3,Be6,Bxf6,Bxf6,Nxf6+,Qxf6,Bb5,Qg5,Ng3,f5,exf5,Bxf5,Nxf5,Rxf5,Bxc6,bxc6,b3,Raf8,f3,Qg3,Qe1,Qg5,Qe4,Rf4,Qxc6,e4,fxe4', 'Rxf1+,Rxf1,Qe3+,Kh2,Rxf1', 'https://lichess.org/training/rNuuT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNVbi', 'Rapid', 'Galmonte', 1856, 'Gerodge', 1797, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be2,O-O,O-O,c5,dxc5,dxc5,Qxd8,Rxd8,Bg5,Nc6,Bc4,Bg4,h3,Bxf3,gxf3,Nd4,f4,Nxc2,Rac1,Nd4,e5,Nh5,Bxe7,Rdc8,Ne2,Nxe2+,Bxe2,Nxf4,Bg4,Re8,Bxc5,Bxe5,b4,h5,Bf3,Nxh3+,Kh1,Rad8,Bxb7,Rd2,a4,Bb8,Rcd1,Rxd1,Rxd1,Kh7,Rd7,Re1+,Kg2,Ng5,a5,h4,Bd6,Rd1,Rxf7+,Nxf7,Bxb8,Nd8,a6,Nxb7', 'axb7,Rd7,Bc7,Rxc7,b8=Q', 'https://lichess.org/training/rNVbi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RnWj9', 'Rapid', 'OSCH', 1937, 'sir-ariu1', 2031, 'd4,Nf6,c4,g6,e3,Bg7,Nc3,d5,Nf3,dxc4,Bxc4,O-O,O-O,c5,dxc5,Qc7,b4,Nc6,a3,Ne4,Nd5,Qd7,Ra2,e6,Nf4,Qxd1,Rxd1,Nc3,Rdd2,Nxa2,Bxa2,b6,Rd6,Bb7,b5,Ne5,c6,Nxf3+,gxf3,Bc8,Bd2,Be5,Rd3,a6,Bc4,axb5,Bxb5,Bxf4,exf4,Ba6,a4,Bxb5,axb5,Ra1+,Kg2,Rb1', 'c7,Rxb5,Rd8', 'https://lichess.org/training/RnWj9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RNyr4', 'Rapid', 'vivek2358', 1697, 'AlbanianX', 1729, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,Nc3,d6,d3,O-O,h3,Na5,Bg5,Nxc4,dxc4,h6,Bxf6,Bxf6,Nd5,c6,Nxf6+,Qxf6,b3,Qg6,Qd3,Bxh3', 'Nh4,Qg4,Qxh3,Qxh3,gxh3', 'https://lichess.org/training/RNyr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rNZ0g', 'Rapid', 'Deoraghvendra', 1772, 'vicky12575588555', 1820, 'e4,e5,Nf3,Nc6,Bb5,Qf6,Nc3,a6,Nd5,Qd6,Bc4,h6,d3,Nf6,Nxf6+,Qxf6,Be3,b5,Bd5,Bb7,O-O,Bd6,c4,Rb8,Qb3,bxc4,dxc4,O-O,Qd3,Nb4,Qd2,Nxd5,cxd5,c6,Rfd1,cxd5,exd5,Rfc8,Rdc1,Qd8,Rxc8,Rxc8,b3,Qc7,Qd1,Qc2,Qf1,Bxd5', 'Rc1,Qxc1,Bxc1', 'https://lichess.org/training/rNZ0g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RNzSG', 'Rapid', 'AHMED_TALAAT', 1754, 'pattman2200', 1734, 'Nf3,c5,c4,Nc6,b3,e6,Bb2,Nf6,g3,Be7,Bg2,d5,cxd5,exd5,d4,cxd4,Nxd4,Nxd4,Qxd4,O-O,O-O,b6,b4,Bb7,Nc3,Rc8,a3,Rc4,Qd2,d4,Bxb7,dxc3,Bxc3,Qc7,Bxf6,Bxf6,Rac1', 'Rxc1,Rxc1,Qxb7', 'https://lichess.org/training/RNzSG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ro0BI', 'Blitz', 'Marienkaefer', 2247, 'Datel1958', 2269, 'e4,e6,b3,d5,Bb2,dxe4,Nc3,Nf6,Qe2,Nc6,O-O-O,Be7,d3,exd3,Rxd3,Bd7,f4,O-O,Nf3,Qc8,g3,Nb4,Rd1,Bc6,Bg2,a5,Ne5,Bxg2,Qxg2,a4,a3,Nbd5,Nxa4,b5,Nc6,bxa4,Rxd5,Qe8,Nxe7+,Qxe7,Rg5,axb3,cxb3,Rxa3,Bxa3,Qxa3+,Qb2,Qa7,Re1,Ne8,f5,f6,Rg4,e5,Ra4,Qb6,Qc2,Nd6,Kb2,Rb8,Rc1,Nb5,Qc4+,Kh8,Rd1,h6,Rb4,Qf2+,Kc1,Qe3+,Rd2,c5,Rxb5,Rd8,Qc2,Qe1+,Kb2,Ra8,Qd3', 'Qa1+,Kc2,Ra2#', 'https://lichess.org/training/ro0BI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ro2dU', 'Rapid', 'gb500', 1641, 'ninepoundhammer', 1674, 'e4,e5,d3,Bc5,Nf3,Nc6,Qe2,Nd4,Nxd4,Bxd4,c3,Bb6,Be3,c5,Qg4,Qf6,Bg5,Qg6,Be2,d5,Qg3,f6,Bd2,Qxg3,fxg3,d4,c4,Bc7,Bh5+,g6,Bf3,Ne7,Bh6,Bd7,O-O,O-O-O,Bg7,Rhg8,Bxf6,Bd6,Bh4', 'g5,Bxg5,Rxg5', 'https://lichess.org/training/ro2dU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RO2fw', 'Rapid', 'DocReyes89', 1757, 'qwter', 1805, 'e4,e5,Nf3,d6,Bc4,Nf6,Ng5,Be6,Bxe6,fxe6,Nxe6,Qd7,Nxf8,Rxf8,Nc3,Nc6,d3,O-O-O,Be3,h6,Qe2,Ng4,O-O-O,Nxe3,fxe3,Rf7,Kb1,Rdf8,d4,Nb4,dxe5,Rf2,Qc4,Nxc2,exd6', 'Nxe3,Qd3,Nxd1', 'https://lichess.org/training/RO2fw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ro2jL', 'Rapid', 'wack1155', 1989, 'elzorrowilfrid', 1714, 'd4,d5,c4,dxc4,Nc3,Nc6,d5,Nb8,e4,e6,Bxc4,exd5,exd5,Nf6,Nge2,Bd6,O-O,O-O,Bg5,Be7,Re1,Qd6,Nb5,Qb6,Be3,Bc5,Ned4,a6,Nc3,Qxb2,Qc2,Qxc2,Nxc2,Bxe3,Rxe3,Bf5,Nd4,Bg6,Rae1,Nbd7,f3,Nb6,Bb3,Rfd8,Re7,Rac8,g4,Nfxd5', 'Nxd5,Nxd5,Bxd5', 'https://lichess.org/training/ro2jL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rO651', 'Classical', 'catosi', 1611, 'HarryPotterFan', 1619, 'e4,c5,Nf3,Nc6,Bb5,Qb6,Nc3,d6,O-O,Bg4,h3,Bxf3,Qxf3,O-O-O,Qxf7,Ne5,Qe6+,Kb8,d3,Nf6,Qb3,a6,Na4', 'Qxb5,Qxb5,axb5', 'https://lichess.org/training/rO651');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rO6nj', 'Classical', 'talal70', 1826, 'opalko', 1794, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Bd2,O-O,O-O,d6,a3,h6,Bc3,Bg4,Nbd2,Nd4,h3,Bh5,b4,Bb6,Bb2,a6,c3,Nxf3+,Nxf3,d5,exd5,Nxd5,Qe2,Re8,Qe4,Bxf3,Qxf3,Nf6,Qxb7,Qd6,Qf3,c5,Rad1,Bc7,Bc1,cxb4,cxb4,e4,Qg3,Qxg3,fxg3,Bxg3,dxe4,Rxe4,Bd3,Re7,Rf3,Re1+,Rxe1,Bxe1,Kf1,Rc8,Kxe1,Rxc1+,Kd2,Ra1,Bxa6,Ra2+,Kc3', 'Rxa3+,Kc4,Rxa6', 'https://lichess.org/training/rO6nj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rO6QO', 'Rapid', 'esi_hedayati', 1822, 'edervega12', 1806, 'e4,g6,d4,Bg7,Nf3,b6,Be2,Bb7,e5,e6,Bf4,Ne7,c3,d6,Nbd2,dxe5,Bxe5,Bxe5,Nxe5,Bxg2,Rg1,Bb7,Bf3,c6,Be4,Nd7,Nxd7,Qxd7,Qf3,f5,Bc2,O-O-O,Qf4,Nd5,Qh4,Rde8,O-O-O,e5,dxe5,Rxe5,Rge1,Rxe1,Rxe1,Rd8,Bb3,Nxc3', 'Be6,Qxe6,Rxe6', 'https://lichess.org/training/rO6QO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ROA4z', 'Rapid', 'oxycaveman', 2007, 'ndgzwo', 2097, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Nh6,b3,cxd4,cxd4,Nf5,Bb2,Bb4+,Kf1,Be7,g4,Nh4,h3,Bd7,Nxh4,Bxh4,Na3,O-O,f4,Nb4,Kg2,f6,Rf1,fxe5,dxe5,Be7,Nc2,Rac8,Nd4,Bc5,a3,Na6,b4,Be7,Qd2,Nc7,Rac1,Nb5,Nb3,Rxc1,Rxc1,Qd8,Nc5,Nc7,Nxb7,Qb8,Nc5,Bc6,Nxe6,Nxe6,Rxc6,Nxf4+,Kg3,Qd8,Kh2,Bh4,Bf3,Kh8,Rd6,Qb8,Bxd5', 'Nxd5,Qxd5,Rf2+', 'https://lichess.org/training/ROA4z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rOaCS', 'Blitz', 'LazsloParaflex', 1604, 'hontrum', 1664, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Bd7,Bd3,Be7,Ne4,O-O,O-O,Nxe4,Qxe4,f5,Qxe5,Nb7,Nc3,Bd6,Bc4+,Kh8,Qe2,Qh4,g3,Qh3,d4,Rf6,f4,Re8,Qf3,Rh6,Rf2', 'Re1+,Bf1,Rxf1+,Rxf1,Qxh2#', 'https://lichess.org/training/rOaCS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rOAny', 'Rapid', 'bm_1518', 1820, 'Para85', 1753, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Bxd5,Bxf2+,Rxf2,Qxd5,d4,Ng6,Nd2,Be6,Nf3,Bg4,h3,Bxf3,Rxf3,Nh4,Rf2,f5,Qh5,Ng6,Bd2,Rae8,b3,Re4,Bg5,h6,Bxh6,Rh4,Qxg6,Rxh6,Qg3,Rff6,Raf1,Rfg6,Qxc7,Rxh3,Qc4,Qxc4,bxc4,Rh5,Rxf5,Rh4,Rf7,Rgh6,Rxb7,Rh1+,Kf2,Rf6+,Kg3,Rhxf1,Rxa7,R1f2,c5,Rc2,Ra3,Rg6+,Kf4,Rgxg2,d5,Rgd2,d6,Kf7,Ke5,Re2+,Kd5,Rcd2+,Kc6,Ke6,Kc7,g5,Ra6,Rxa2', 'd7+,Rxa6,d8=Q', 'https://lichess.org/training/rOAny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RoBbn', 'Rapid', 'Autumnal', 2290, 'Frankieminkia', 2323, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,g6,Ne5,Bg7,Be2,O-O,Bf4,Qb4,Qd2,Rd8,O-O-O,Nc6,h4,Rxd4', 'Nxc6,Rxd2,Nxb4', 'https://lichess.org/training/RoBbn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rOBlq', 'Rapid', 'hoviedo45', 1941, 'Cedoda', 2046, 'c4,Nf6,Nf3,c5,Nc3,Nc6,e3,e5,d3,d5,cxd5,Nxd5,Bd2,Nf6,h3,Bf5,e4,Be6,a3,Qd7,Ng5,Bd6,g3,O-O,Bg2,Nd4,Nxe6,fxe6,O-O,b5,Ne2,a5,Nxd4,exd4,f4,e5,f5,c4,Qb1,Rfc8,Rc1,Qa7,Kh2,Rc6,Qa2,Qc7,Rc2,Kh8,dxc4,Rxc4,Rxc4,bxc4,Rc1,Rc8,g4,a4,g5,Nh5,Bf1,d3,Bxd3,Nf4,Rxc4,Qd8,Rxc8,Qxc8,Qc4,Qb8,Bc3,Bc7,Bc2,Qa7,Qf1,Qe3,Be1,Bb6,f6,gxf6,gxf6,Nxh3,f7,Kg7,Bh4,Nf4,Bg3', 'Qd2+,Kh1,Qxc2', 'https://lichess.org/training/rOBlq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rOBQz', 'Rapid', 'payasiji', 1748, 'fayca', 1738, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,d4,e6,c3,Ngf6,Bg5,Be7,O-O,O-O,h3,Ne4,Bxe7,Qxe7,Nbd2,Nxd2,Qxd2,Rac8,Qc2,Nf6,Ng5,b5,a3,a5,Rfe1,b4,axb4,axb4,Qd3,bxc3,bxc3,Rc4,Ra5,Rfc8,Rc1,h6,Nf3,Ne4,Nd2,Rxc3,Rxc3,Rxc3,Qb1,Nxd2', 'Ra8+,Qf8,Rxf8+', 'https://lichess.org/training/rOBQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rObX8', 'Rapid', 'cabernet14', 1907, 'Axelou2000', 1945, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Bg4,Be2,Nf6,O-O,e6,h3,Bh5,Bd2,Qc7,Ne5,Bxe2,Qxe2,Bd6,Bg5,Nbd7,Nxd7,Nxd7,Ne4,O-O,Nxd6,Qxd6,c3,Rfe8,Qg4,f6,Bf4,e5,dxe5,Nxe5,Qg3,Qe7,Rfe1,Qf7,Bxe5,Rxe5,Rxe5,fxe5,Qxe5,Re8,Qd4,Re2,b4,Rxa2', 'Qd8+,Qf8,Qxf8+,Kxf8,Rxa2', 'https://lichess.org/training/rObX8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rocfv', 'Rapid', 'JB13016', 1643, 'Kratoz101', 1666, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bd2,Bxc3,bxc3,Nxe4,Qg4,Nxd2,Qxg7,Rf8,Kxd2,b6,Bc4,d5,Bb5+,Bd7,Bd3,Nc6,Nf5,exf5,Rhe1+,Be6,Bxf5,Qd7,Bxe6,fxe6,Rxe6+,Ne7,Rxe7+,Qxe7,Re1,Rxf2+,Kd1,Qxe1+,Kxe1,Rf8,Qe5+,Kd7,Qxd5+,Kc7,g4', 'Rae8+,Kd2,Rd8', 'https://lichess.org/training/Rocfv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RoCg2', 'Rapid', 'Carlo_Rossi', 2054, 'Mente', 2053, 'd4,d5,c4,Bf5,Nc3,Nf6,Bf4,Nc6,e3,e6,Nf3,Bb4,Qb3,Ne4,Rc1,O-O,cxd5,Qxd5,Qxd5,exd5,Be2,Bxc3+,bxc3,h6,O-O,Rac8,c4,dxc4,Bxc4,Bg4,Ne5,Nxe5,Bxe5,Nd2,Rfe1,Nxc4,Rxc4,Be6,Rxc7,Rxc7,Bxc7,Bxa2,Bd6,Rd8,Ra1,Rxd6,Rxa2,a6,Kf1,Kf8,Ke2,Ke7,Kd3,g6,e4,Rb6,Rc2,Kd6,e5+,Kd7,Ke4,Rc6,Rxc6,bxc6,f4,a5,Kd3,a4,Kc4,a3,Kb3,a2', 'Kxa2,Ke6,Kb3,Kd5,Kc3', 'https://lichess.org/training/RoCg2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RodM8', 'Blitz', 'fab2bishops', 1519, 'Nitrouspg', 1556, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,Be7,e3,O-O,Bd3,h6,Bh4,b6,Qc2,Nbd7,O-O-O,dxc4,Be4,Nxe4,Bxe7,Qxe7,Nxe4,b5,Ne5,Nxe5,dxe5,Bb7,Nd6,Rad8,f4,f6,g4,fxe5,fxe5,Ba8,h4,c5,g5,Bxh1,Rxh1,h5,Qg6,Rxd6,exd6,Qxd6,Qxh5,Rf2,Rd1,Qe7,g6,Qf6', 'Qh7+,Kf8,Qh8+,Ke7,Qd8#', 'https://lichess.org/training/RodM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RodQP', 'Classical', 'KarpSP', 1760, 'Selfishgene49', 1771, 'Nf3,Nc6,d4,e6,e4,b6,Bb5,Bb7,O-O,f5,exf5,exf5,Re1+,Be7,d5,Nb4,c4,Na6,Ne5,Nf6,Bg5,O-O,Bxf6,Bxf6,Qh5,Re8,Nc3,Bxe5,Qxf5,Bxh2+,Kxh2,Qh4+,Kg1,Rf8,g3,Qxg3+,fxg3,Rxf5,Bxd7,Raf8,Kg2,Rf2+,Kh3,Rxb2,Be6+,Kh8,Nb5,Nc5,Nxc7,Rff2,Rf1,Ne4,Kg4,Nf6+,Kh3', 'Rh2#', 'https://lichess.org/training/RodQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rOE6a', 'Rapid', 'atharvamg', 1930, 'druzil', 1896, 'd4,d5,c4,e6,Nc3,Nf6,e3,Bb4,Nf3,O-O,Qc2,c5,a3,Bxc3+,bxc3,Bd7,Bd3,dxc4,Bxc4,cxd4,cxd4,Bc6,Qe2,Qd6,a4,Nbd7,Ba3,Bxf3,Qxf3,Qc7,Bxf8,Qxc4,Ba3,Qc3+,Ke2,Qc2+,Ke1,Qc3+,Ke2,Qc2+,Kf1,Ne4,h3', 'Nd2+,Kg1,Nxf3+', 'https://lichess.org/training/rOE6a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RoHed', 'Rapid', 'CarlosTerra', 1795, 'Martintume_UNFV', 1791, 'Nf3,c5,e4,d6,g3,g6,Bg2,Nf6,d3,Bg7,O-O,O-O,c3,Bg4,Qc2,Nbd7,Be3,e5,Nbd2,b5,a4,a6,h3,Be6,Ng5,Nb6,axb5,axb5,Nxe6,fxe6,Qb3,Qd7,d4,exd4,cxd4,c4,Qb4,d5,e5,Ne8,Rxa8,Nxa8,Ra1,Nb6,Ra6,Nc8,Nf3,Nc7,Ra5,Ne7,Ng5,Nf5,Ra7,Nxe3,fxe3,Bh6,h4,Bxg5,hxg5,Qf7,Qe1,Rc8,Qf2,Qe7,Qf6,Qb4', 'Rxc7,Rxc7,Qd8+,Qf8,Qxc7', 'https://lichess.org/training/RoHed');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('roHFt', 'Blitz', 'IM FightingDragon', 2477, 'YEETawat', 2432, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Nf6,e5,Ng4,d4,Nc6,Bxf4,d5,exd6,Bxd6,Qe2+,Ne7,Ne5,Bxe5,dxe5,Ng6,Bg3,O-O,O-O,Qe7,Nc3,N4xe5,Bb3,Qc5+,Kh1,Be6,Ne4,Qe7,Rae1,Bxb3,axb3,Rae8,Qh5,f6,Bf2,Qd7,Bc5,Rf7,h3,b6,Bg1,Rfe7,Ng3,Nf7,Rxe7,Rxe7,Nf5,Re5,Qg4,Nd6', 'Nh6+,gxh6,Qxd7', 'https://lichess.org/training/roHFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rOIZM', 'Rapid', 'opdrgm', 2254, 'PaoloScu', 2051, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,Bf5,Be3,Nc6,Nf3,dxe5,fxe5,Nb4,Na3,e6,Be2,Be7,O-O,O-O,Qb3,a5,Kh1,Kh8,Rad1,Be4,Bg1,h6,Qe3,Bh7,Nb5,Nd7,a3,Na6,Bd3,Bxd3,Rxd3,c6,Nc3,Rc8,c5,b6,cxb6,Qxb6,Na4,Qc7,Rc1,Nb6,Nxb6,Qxb6,Rb3,Qc7,Qe4,a4,Rbc3,Nb8,Qf4,Qd8,Qg4,Rg8,Qh5,Bf8,Nd2,f5,Nf3,Qe7,Nh4,Kh7,Rg3,Na6,Ng6,Qe8,Rcc3,Rd8,Rg5,c5,Rcg3,cxd4,Nxf8+,Qxf8,Qg6+,Kh8,Qxe6,d3,Rxf5,Qxf5', 'Qxf5,d2,Rd3', 'https://lichess.org/training/rOIZM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rojHf', 'Blitz', 'Paul_Cou', 1593, 'punsdz', 1609, 'd4,c5,dxc5,Nc6,Nc3,f6,e3,e5,Bb5,Bxc5,Bxc6,bxc6,Nf3,Ne7,Bd2,d5,Qe2,Bg4,h3,Be6,O-O,Qd7,Nh2,Bxh3,gxh3,Qxh3,Qf3,Qe6,Na4,Bd6,a3,e4,Qg2,Nf5,Qh3,Qe5,Bc3,Qe6,Bb4,h5,Bxd6,Qxd6,b4,Ne7,Nc5,g5,Qe6,Qc7,a4,g4,Qxf6,h4,Qg7,O-O-O,Qg5,Rdg8,Qf5+,Kb8,Qe6,g3,fxg3', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/rojHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rOjJJ', 'Classical', 'AA1966', 1704, 'lightmoon2019', 1743, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qc3,Bd6,Bc4,Qh4,Nd2,Bf4,Nf3,Qg4,Bxf4,Qxf4,O-O,Nf6,Bxf7+,Kxf7,Ne5+,Ke8,f3,d6,Nd3,Qe3+,Kh1,b5,Rae1,Qd4,Qb3,a6,e5,dxe5,Nxe5,c4,Qb4,Be6,Nc6,Qd7,Ne5,Qd5,Rf2,Kd8,Qa5+,Kc8,Qb6,Rb8,Qxa6+,Rb7,Qa8+,Rb8,Qa5,Nd7,Rd2,Qb7,Qc3,Nxe5,Qxe5,Bd7,Red1,Rd8,Qxg7,h5,h3,Qc6,Qe5,h4,c3,Rb7,Qh5,Ra7,a3,Rb7,Rd6,Qc7,Qxh4,Rb6,Rxb6,Qxb6,Qe4,Qc6,Qh4,Re8,Qh5,Re2,Qh8+,Kc7,Qh4,Rxb2,Qg3+,Kd8,h4,Rb3,Qg7,Rxa3', 'Qf8+,Kc7,Qxa3', 'https://lichess.org/training/rOjJJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rOjLb', 'Rapid', 'minimerlin', 1742, 'adiguru2', 1812, 'c4,e5,Nc3,Nc6,Nf3,Nf6,e3,d5,cxd5,Nxd5,d4,exd4,Nxd4,Bb4,Bd2,Nxd4,exd4,Nf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/rOjLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rOkDj', 'Blitz', 'Soheil__gm', 2112, 'JohnRitterBelocura05', 2181, 'e4,b6,Nf3,Bb7,Nc3,Nc6,d4,e6,d5,exd5,exd5,Qe7+,Be2,Ne5,O-O,O-O-O,Bf4,Ng6,Bg3,Qc5,Nb5,d6,Nxa7+,Kb8,Nb5,Qxd5,a4,Bc6,a5,Qxd1,Rfxd1,bxa5,Rxa5,Nf6,Nfd4,Bb7,Bf3,Ne4,Rda1,Be7,Ra7,Ne5,Bxe5,dxe5,Nf5,Bf6,Rxb7+,Kxb7,Bxe4+,Kb6,Nc3,c6,Na4+,Kc7,Nc5,Ra8,Rd1,Rhd8,Rxd8', 'Ra1+,Rd1,Rxd1#', 'https://lichess.org/training/rOkDj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rol7b', 'Rapid', 'azat58', 2122, 'Thunderstar', 2125, 'e4,e6,d4,c5,d5,exd5,exd5,d6,c4,Nf6,Nf3,Be7,Bd3,O-O,h3,Na6,a3,Nc7,O-O,a6,Nc3,Bd7,Re1,b5,cxb5,axb5,Bg5,Re8,Bxf6,Bxf6,Qc2,h6,Ne4,Nxd5,Nxd6,Rxe1+,Rxe1,Qb6,Ne4,c4,Nxf6+,Qxf6,Bh7+,Kh8,Be4,Bc6,Rd1,Nf4,Bxc6,Qxc6,Qd2,Nxh3+,Kf1,Re8,Qd7,Qxd7,Rxd7,Nf4,Rxf7,Nd3,Rb7,Nxb2,Rxb5,Nd3,Rb7,Ra8,Rc7,Rxa3,Rxc4,Ra2,Rd4,Nc5,g3,Ne6,Re4,Nc5,Re8+,Kh7,Kg2,Nd3,Nd4,Rxf2+,Kh3,Nc5,Re7,Nd3,Kg4,Nc5,Nf5,h5+,Kg5,Rxf5+,Kxf5,Kh6,Re5', 'g6+,Kf4,Nd3+,Ke3,Nxe5', 'https://lichess.org/training/Rol7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RoLuN', 'Rapid', 'terano_rex', 1690, 'Tertho', 1612, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nf6,Qb3,Qe7,Nxc3,Nxe4,Nxe4,Qxe4+,Ne2,Qxg2,Bxf7+,Kd8,Rg1,Qxh2,Bg5+,Be7,Bxe7+,Kxe7,O-O-O,d6,Rde1,Kd7,Rxg7,b6,Bd5+,Kd8,Bxa8,Qxf2,Kd1,Ba6,Qc2', 'Bxe2+,Qxe2,Qd4+,Kc1,Qxg7', 'https://lichess.org/training/RoLuN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('roMaf', 'Rapid', 'jurandirjunior', 1869, 'Edirssy', 1862, 'd4,e6,c4,d5,cxd5,exd5,Nc3,Nf6,Nf3,Bb4,Bg5,O-O,e3,Qd6,Bd3,h6,Bf4,Qd7,Ne5,Bxc3+,bxc3,Qe7,Qb3,Nc6,Nxc6,bxc6,O-O,Be6,Be5,Rab8,Qc2,Rb6,Rab1,Rfb8,Rxb6,Rxb6,Rb1,Ng4,Bg3,c5,h3,Nf6,Be5,cxd4,cxd4,Rxb1+,Qxb1,Ne8,Qb7,f6,Bg3,Qa3,Qb8,Bf7,Bb5,Qb2,Bxc7', 'Qc1+,Bf1,Qxc7', 'https://lichess.org/training/roMaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rONHS', 'Rapid', 'umuteb', 2013, 'jogo17', 1916, 'e4,d6,d4,g6,Nf3,Bg4,Nc3,Bg7,Be3,c6,h3,Bxf3,Qxf3,Qb6,O-O-O,Na6,g4,Nb4,h4,Qa5,Kb1,e5,d5,c5,h5,Qd8,Bb5+,Kf8,hxg6,hxg6,Rxh8,Bxh8,Rh1,Kg7,Bh6+,Nxh6,Qh3,Qg5,Ne2,a6,Ba4,b5,Bb3,c4,c3,Nxd5,exd5,cxb3,axb3,a5,Ng3,Nxg4', 'Qh7+,Kf6,Ne4+,Ke7,Nxg5', 'https://lichess.org/training/rONHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ROnSF', 'Rapid', 'Elzoo', 1936, 'Genrall', 2038, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,d6,Nc3,a6,Be2,Be6,O-O,h5,f4,exf4,Bxf4,g5,Be3,g4,Nd4,Bg7,Nxe6,fxe6,Qd3,Be5,Bf4,Qb6+,Kh1,O-O-O,Be3,Qxb2,Na4,Qb4,Nb6+,Kb8,Rab1,Qa5,Bd2,Qc5,Qb3,Nd4,Qd3,Nxe2,Qxe2,Ne7,Na4,Qxc2,Qxa6,Qxe4,Be3,Nc8,Nc3,Bxc3,Rb3,Be5,Rfb1,Rh7,Rc1,Rf7,Rxc8+,Kxc8,Qa7,Kd7,Rxb7+,Ke8', 'Rxf7,Qb1+,Bg1', 'https://lichess.org/training/ROnSF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RooIb', 'Rapid', 'RED0S', 2504, 'enesbeydiyeceksin', 2499, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Nd5,Nf3,Nf4,Bf1,Bd6,d4,e4,Ne5,Qf6,Nc3,Bxe5,dxe5,Qxe5,g3,Nh3,Qe2,O-O,Qxe4,Qxe4+,Nxe4,Re8,f3,f5,Bxh3,fxe4,Bxc8,exf3+,Kf2,Raxc8,Kxf3,Rc7,h4,Rf7+,Bf4,Nc4,b3,Ne5+,Kg2,Ng6,Rae1,Nxh4+,gxh4,Rxe1,Rxe1,Rxf4,Kg3,Rd4,Re6,c5,Rc6,c4,b4,Kf7,b5,h5,a4,Rg4+,Kh3,Re4,a5,Re5,b6,axb6,axb6,Rb5,Rc7+,Kf6,b7,c3,Rc6+,Kf5', 'Rc5+,Rxc5,b8=Q', 'https://lichess.org/training/RooIb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RoPgH', 'Blitz', 'SchoolBoy1', 1805, 'ds-2020', 1943, 'Nf3,d5,g3,c5,Bg2,Nc6,O-O,Nf6,d3,Bf5,b3,e6,Bb2,Be7,Nc3,O-O,d4,Rc8,dxc5,Bxc5,Na4,Be7,Ne5,b5,Nxc6,Rxc6,Nc3,a6,a3,Qc7,Qd2,Rc8,e4,dxe4,Nxe4,Bxe4,Bxe4,Nxe4,Qe3,Nxf2,Qxf2,Rxc2', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/RoPgH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ropju', 'Rapid', 'haakim', 2016, 'Romeyko', 2027, 'd4,Nf6,e3,e6,Bd3,c5,c3,d5,Nd2,b6,Ne2,Bb7,O-O,Nbd7,h3,Be7,a3,O-O,b4,cxd4,exd4,Qc7,Nf3,h6,Bf4,Bd6,Qd2,Rac8,Rac1,Rfe8,Bxh6,Ne4,Qe3,gxh6,Qxh6,Bf8,Qh5,Ndf6,Qh4,Bg7,Ne5,Kf8,Ng3,Ke7,Nh5,Rh8,Be2,Kd6,c4,Nxh5', 'c5+,bxc5,bxc5+', 'https://lichess.org/training/ropju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RoPPs', 'Rapid', 'heisenberg90', 1815, 'steindor', 1697, 'd4,c6,e4,d5,e5,f6,Bf4,fxe5,Bxe5,Nf6,Be2,Bf5,Bh5+,g6,Be2,Qb6,b3,Nbd7,Nf3,Bg7,c3,O-O,O-O,Nxe5,Nxe5,Qc7,h3,Nd7,Ng4,h5,Ne3,e5,Nxf5,Rxf5,dxe5,Qxe5,Bd3,Rf6,Re1,Qg5,Nd2,Ne5,Qc2,Bh6,Rad1,Raf8,Re2,Qh4,Rxe5,Qxf2+,Kh1,Bf4,Re2,Qg3,Nf1,Qg5,Rf2,Bg3,Rxf6,Rxf6,Nxg3,Qxg3,c4', 'Rf2,Qxf2,Qxf2', 'https://lichess.org/training/RoPPs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ROqOf', 'Rapid', 'Seid_Not', 1774, 'Dixie2019', 1775, 'e4,c5,f4,d6,Nf3,Nc6,Bc4,a6,a4,g6,Ng5,e6,O-O,Bg7,f5,Qxg5,d3,Bd4+,Kh1,Qh4,fxe6,fxe6,Qf3,Qe7,Bg5,Qg7,Nc3,Ne5,Qf4,Nxc4,dxc4,Be5,Qd2,Bd7,Rf3,h6,Be3,O-O-O,a5,Nf6,Na4,Bxa4,Rxa4,Nxe4,Qd3,Ng5,Rf1,Rhf8,Rb1,Qf6,b4,Ne4,Rd1,Nf2+,Bxf2,Qxf2,c3,Bxc3,b5,Qd4,Qc2,Qf6,Qe2,Be5,bxa6,bxa6,Ra3,Qf2,Qd3,Qh4,g3,Qd4,Qc2,Qg4,Rb1,Kd7,Rb7+,Ke8', 'Qa4+,Rd7,Qxd7#', 'https://lichess.org/training/ROqOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ROrkM', 'Rapid', 'Smerh', 1823, 'Skullcrasher', 1789, 'e4,e6,c4,Bc5,d4,Bb4+,Nc3,Qh4,Qf3,Bxc3+,bxc3,Nf6,e5,Qe4+,Be2,Qxf3,Nxf3,Ne4,Bb2,d5,cxd5,exd5,O-O,f5,Ba3,Be6,Rfc1,Nc6,Rab1,b6,Ba6,Rb8,Bb5,Bd7,Nh4,Ne7,Bxd7+,Kxd7,Bxe7,Kxe7,Nxf5+,Kf7,f3,Nd2,Rb2,Nc4,Rf2,g6,Nh4,Ke6,g4,Rhf8,Ng2,g5,h4,h6,hxg5,hxg5,Kf1,Rh8,Ke2,Rh3,f4,Rf8,f5+,Ke7,Rf3,Rh2,Kf2,Nd2,Re3,Ne4+,Kf3,Rfh8,Rg1,R8h3+,Ke2,Nxc3+,Kd3,Rxe3+,Nxe3,Nxa2,Nxd5+,Kd7,Ra1,c6,Nf6+,Ke7,Ne4,Nb4+,Kc4,Nd5,Nxg5,Rc2+,Kd3,Rc3+,Kd2,a5,Rf1,Rg3,f6+,Kf8,Ne6+,Kf7,g5,a4,Nd8+,Kf8,Nxc6,Rxg5,Kd3,b5,Na7,Rg3+,Ke4,Nc3+,Kf4,Ne2+,Ke4,Rg4+,Kf3,Rxd4,Kxe2,b4,Ke3,Rd5,Ke4,Rd2,Nb5,a3,e6,Re2+,Kf5,a2,e7+,Ke8,Nd6+,Kd7,e8=Q+,Rxe8,Nxe8,Kxe8,Ke4', 'b3,Kd3,b2,Kc2,a1=Q', 'https://lichess.org/training/ROrkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RorrA', 'Blitz', 'Addielchess14', 2104, 'IM epiphany90', 2557, 'e4,g6,Nc3,Bg7,d3,c6,g3,d5,Bg2,Nh6,f4,d4,Nce2,O-O,Nf3,Bg4,O-O,Nd7,h3,Bxf3,Bxf3,e5,Bg2,f5,Kh2,Qc7,Ng1,Rae8,Nf3,fxe4,dxe4,Nf7,f5,Nd6,Nh4,gxf5,Nxf5,Nxf5,exf5,e4,Qg4,Nf6,Qe2,e3,c3,c5,b4,b6,cxd4,cxd4,Bb2,Ne4,Qf3,Be5,Qg4+,Qg7,Bxe4,Qxg4,Bd5+,Kh8,hxg4,d3,Bxe5+,Rxe5,Bc4,Rd8,f6,e2,f7,exf1=Q,Rxf1,Kg7,Bxd3,Re3,Bc4,Re4,Bb3,Rxb4,Kh3,Rbd4,Kh4,Rf8,Kh5,a5,Kg5,a4,Be6,Rd6,Kf5,b5,Ke5,Rb6,Rf5,b4', 'Rg5+,Kh6,Rg8,Rxe6+,Kxe6', 'https://lichess.org/training/RorrA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RouFe', 'Rapid', 'EvgenyKanev', 2063, 'niamor14', 2006, 'Nf3,c6,g3,d5,Bg2,Bg4,h3,Bxf3,Bxf3,Nf6,d3,Nbd7,Nc3,e6,Bg2,Qb6,O-O,Bd6,Na4,Qc7,f4,O-O,Nc3,Nh5,Kh2,e5,e3,exf4,gxf4,Nhf6,e4,dxe4,dxe4,Rfe8,e5,Nxe5,fxe5,Rxe5,Bf4,Re6,Bxd6,Rxd6,Qc1', 'Rd1+,Qf4,Qxf4+,Rxf4,Rxa1', 'https://lichess.org/training/RouFe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RoUYt', 'Rapid', 'bruno1986', 2039, 'Middleman33', 2007, 'd4,Nf6,c4,e6,Nc3,c5,Nf3,b6,e3,Bb7,Be2,Qc7,O-O,a6,d5,exd5,Nxd5,Nxd5,cxd5,d6,e4,Nd7,Bf4,g6,Re1,Bg7,Qc2,O-O,b4,Rfe8,Rac1,Rac8,bxc5,Qxc5,Qa4,b5,Rxc5,bxa4,Rxc8,Rxc8,Bxd6,Rc2,a3,Nc5,Bf1,Rc3,Bxc5,Rxc5,d6,Bc6,Bxa6,Bb2,Bb7', 'Bxb7,d7,Bf6', 'https://lichess.org/training/RoUYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('roVoQ', 'Rapid', 'raj7saggi', 1843, 'StonerMaze', 1783, 'e4,d6,Bc4,Nf6,d3,g6,Nf3,Bg7,Nbd2,c5,h3,O-O,Nf1,a6,a3,b5,Bb3,Nc6,c3,Bb7,Ng3,Nd7,O-O,Nde5,Re1,Rc8,Bf4,c4,dxc4,Nxc4,Bxc4,bxc4,Qe2,Na5,Rad1,Nb3,Nd2,a5,Nxc4,Ba6,Nf1,Bxc4,Qe3,Qc7,Ng3,Nc5,Bg5,Nd3,Rxd3,Bxd3,Qxd3,h6,Be3,Qc4,Qc2,a4,Ne2,Qb3,Qb1,Rb8,Bc1,Bxc3,Nxc3,Qxc3,Bxh6,Rfc8', 'bxc3,Rxb1,Rxb1', 'https://lichess.org/training/roVoQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Row5j', 'Rapid', 'allech', 1678, 'leonardoo-da-vinci', 1782, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d4,Bd6,h3,O-O,Nc3,Re8+,Nge2,c5,Bg5,c4,Ba4,Bd7,Bxd7,Nbxd7,Qd2,Be7,O-O-O,Ne4,Nxe4,dxe4,Be3,Rc8,Qc3,Nb6,Kb1,Nd5,Qe1,Nxe3,fxe3,b5,Qf2,a5,Rdf1,f6,g4,b4,g5,Rf8,gxf6,Rxf6,Nf4,a4,Qg3,c3,b3,axb3,axb3,Qa5,Rhg1,Bf8,Nh5,Rg6,Qf4,Ra8', 'Qf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/Row5j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ROwAQ', 'Rapid', 'Macalda', 1917, 'taufikoetomo', 1993, 'd4,Nf6,c4,g6,f3,d5,cxd5,Nxd5,e4,Nb6,Nc3,Nc6,d5,Nb8,Be3,N6d7,f4,Bg7,Nf3,f6,Bc4,a6,O-O,b5,Bb3,Nb6,Qe2,N8d7,Rad1,Bb7,Bd4,c5,Bf2,c4,Bc2,O-O,Nd4,Rf7,Ne6,Qb8,Qg4,Bc8,f5,Ne5,Qh3,g5,Bg3,Nbd7,Qh5,Qd6,h4,g4,Rf4,Qb6+,Bf2,Qa5,Bd4,b4,Ne2,Qxa2,Rxg4,Nxg4,Qxg4,c3,N2f4,Qxb2,Nh5,Qxc2,Nd8,Ne5,Bxe5,fxe5', 'Nxf7,Qxd1+,Qxd1', 'https://lichess.org/training/ROwAQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RoWNQ', 'Rapid', 'Gaditano1994', 1787, 'Davkooo', 1619, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bb4+,Nbd2,Qe7,e3,Ngxe5,Nxe5,Nxe5,Be2,O-O,O-O,Ng6,Bg3,a5,a3,Bc5,Qc2,b6,Bf3,Ra7,Ne4,Ne5,Bxe5,Qxe5,Nxc5,Qxc5,b4,axb4', 'axb4,Rxa1,bxc5', 'https://lichess.org/training/RoWNQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('roXBZ', 'Blitz', 'antoninopolizzi', 1892, 'dfcbkmtdbx60', 1853, 'd4,e6,c4,d5,Nf3,Nf6,Bg5,c6,Nc3,Nbd7,e3,Bb4,a3,Bxc3+,bxc3,Qa5,Qb3,dxc4,Bxc4,Ne4,Rc1,Nxg5,Nxg5,Qxg5,Bxe6,O-O,Bh3,Nb6,Bxc8,Qxg2,Ke2,Raxc8,Rhg1,Qxh2,Qc2,f5,Qb3+,Kh8,Rh1,Qc7,Qe6,f4', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/roXBZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rOxIS', 'Rapid', 'rattascalpel', 2354, 'johnalvareztan', 2200, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Bf5,Bd3,Bg6,Nf3,e6,O-O,Nd7,Nxd5,exd5,Re1+,Be7,Bg5,f6,Bf4,Bh5,c4,O-O,cxd5,Nb6,Qb3,Bxf3,d6+,Bd5,dxe7,Qd7,exf8=Q+,Rxf8,Qc2,Qg4,Bxh7+,Kh8,Bg3,f5,Re5,Kxh7,a4,c6,Rae1,Kg8,f4,Be4,Qc5,Nd7,Qe7,Nxe5,dxe5,Qg6,Qxb7,Rf7,Qa6,Qe6,Rd1,Qb3,Rd8+,Kh7,Qe2', 'Qb6+,Bf2,Qxd8', 'https://lichess.org/training/rOxIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rOxX6', 'Blitz', 'Monico', 1960, 'Christopherrostrollo', 1970, 'c4,d5,cxd5,Nf6,Nc3,Nxd5,e4,Nb6,d4,e6,Nf3,Bb4,Bd3,O-O,O-O,Nc6,a3,Bxc3,bxc3,e5,d5,Ne7,c4,f6,a4,Nd7,Ba3,Re8,Bxe7,Qxe7,Qc2,Nc5,a5,Bg4,Nd2,c6,f3,Bh5,g4,Bf7,Nb3,cxd5,cxd5,Rac8,Nxc5,Rxc5,Qf2,Rec8,Qd2,Rc3,Rfc1', 'Qc5+,Kg2,Rxc1,Qxc1,Qxc1,Rxc1,Rxc1', 'https://lichess.org/training/rOxX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RoYy7', 'Rapid', 'askold12', 1674, 'csabike', 1730, 'd4,d5,e3,Nf6,c4,c6,Nc3,Bf5,h3,e6,a3,Be7,Nf3,h6,Qb3,Qc7,Ne5,Nbd7,cxd5,exd5,Be2,Nxe5,dxe5,Ne4,Nxe4,dxe4,g4,Be6,Bc4,Bxc4,Qxc4,Qxe5,Rb1,h5,b3,hxg4,Bb2,Qf5,Bxg7,Rh7,Qc3,f6,Rd1,gxh3,Bxf6,Bxf6,Qc4,Rd8', 'Qg8+,Ke7,Qxd8+', 'https://lichess.org/training/RoYy7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rp0D5', 'Blitz', 'seanyy18', 1832, 'danstronger', 1851, 'c4,e6,e4,Nc6,Nc3,Bc5,g3,e5,Bg2,Nf6,d3,d6,Nge2,O-O,O-O,a6,Rb1,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Be3,f5,exf5,Rxf5,Bxc5,dxc5,Qd2,Bxe2,Nxe2,Qh4,Ng3,Rf6,Rfe1,Nd4,Rxe5,Rh6,Qe3,Rf8,Bd5+,Kh8,Re8,Qh2+,Kf1,Rf6,Re1', 'Rxf2+,Qxf2,Qxf2#', 'https://lichess.org/training/Rp0D5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rp4X0', 'Rapid', 'Chiprian', 1995, 'Lovenio', 2031, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,g6,Nf3,Bg7,Bf4,Nf6,e5,Nh5,Bg5,f6,exf6,Nxf6,Bc4,Nc6,O-O,e6,Qe2,O-O,Rfd1,Qa5,Rd6,Kh8,Rad1,a6,a4,Ne8,R6d3,d5,Ba2,b5,axb5,axb5,Bb1,b4,Na2,Nc7,Rc1,Nd8,Be7,Re8,Bxb4,Qa7,Ne5,Ba6,Nc3,Bxd3,Bxd3,Na6,Bd6,Rc8,Bxa6,Rc6,Bb5,Rxd6,Bxe8,d4,Nb5,Qa6,Qe4,Rd5,Nc7,Rxe5', 'Qxe5,Bxe5,Nxa6', 'https://lichess.org/training/rp4X0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rP4Ye', 'Rapid', 'c0Co', 1629, 'prevostc', 1659, 'e4,Nf6,e5,Nd5,c4,Nb6,Nc3,d6,f4,dxe5,fxe5,Bf5,Nf3,Nc6,b3,Qd7,Be2,O-O-O,O-O,h5,Ng5,f6,Nf7,Rh7,Nxd8,Nxd8,Nb5,Kb8,d4,a6,Nc3,e6,exf6,gxf6,c5,Nd5,Nxd5,exd5,Bf4,Ka8,b4,Ne6,Bg3,Ng5,Bxc7,Ne4,Bb6,Bg4,Bxg4,hxg4,Rxf6,Nxf6,a4,Ne4,b5,a5,Bxa5,Bh6,Be1,Be3+,Kh1,g3,h3,Nf2+,Bxf2,gxf2,Qf3,Bxd4,Rd1,Rh4,Qf8+,Ka7', 'b6+,Ka6,Qa8#', 'https://lichess.org/training/rP4Ye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RP7IS', 'Rapid', 'Flzkkebrar', 1639, 'YFatihG', 1632, 'e4,e5,Bb5,c6,Bc4,d5,Bf1,dxe4,Qh5,g6,Qxe5+,Be7,Qxh8,Bb4,Qxg8+,Ke7,b3,Bc5,Qxh7,Ke8,Qh8+,Kd7,Qh6,Qf6,Na3', 'Qxf2+,Kd1,Qxf1#', 'https://lichess.org/training/RP7IS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rP7z1', 'Rapid', 'Eric77', 1781, 'emdukata', 1708, 'd4,c5,Nf3,Nc6,dxc5,b6,cxb6,axb6,Nc3,Ba6,a3,e6,a4,Be7,Rb1,Nf6,b4,Nxb4,Bd2,Nc6,e3,Bxf1,Rxf1,O-O,Ke2,d5,Re1,d4,exd4,Nxd4+,Nxd4,Qxd4,Kf1,Qh4,Kg1,Ng4,h3,Qxf2+,Kh1,Qg3', 'Qxg4,Qxg4,hxg4', 'https://lichess.org/training/rP7z1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rp9Ys', 'Rapid', 'ironmanx2216', 2110, 'ha972231', 2000, 'd4,d5,Nf3,Nf6,h3,Bf5,Bf4,Nbd7,e3,e6,Bd3,Be7,O-O,Ne4,a3,O-O,c4,dxc4,Bxc4,Bd6,Bh2,g5,Ne5,Kh8,g4,Bg6,f3,Nef6,Nc3,c6', 'Nxg6+,hxg6,Bxd6', 'https://lichess.org/training/rp9Ys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RPAgP', 'Classical', 'YKSL59', 1928, 'Dolmetcher', 1848, 'e4,e5,Nf3,Nc6,c3,Bc5,Bb5,Nge7,O-O,a6,Ba4,b5,Bc2,O-O,a4,Bb7,Nxe5,Nxe5,d4,Bxd4,cxd4,Nc4,b3,Nb6,a5,Nbc8,b4,Ng6,Nc3,Qh4,g3,Qh3,f3,Nce7,d5,Rae8,Qd4,Nc8,Bb2,Nd6,Nxb5,f6,Nxd6,cxd6,Qb6,Rc8,Ba4,Ne5,Qxb7,Rc4,Bxd7,Nxd7,Qxa6', 'Rc2,Rf2,Rxf2,Kxf2,Qxh2+', 'https://lichess.org/training/RPAgP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rpbpu', 'Rapid', 'FerminCamacho', 1656, 'RAHMATOLLA', 1815, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,Ne5,Qc7,Re1,Be7,Qa4+,Nc6,Nxc6,bxc6,d4,O-O,Bg5,cxd4,cxd4,Rfe8,Nc3', 'Ng4,g3,Bxg5', 'https://lichess.org/training/Rpbpu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RPBuq', 'Rapid', 'TheOnePercent', 1633, 'Sababaolek', 1616, 'Nf3,Nc6,c4,e5,Nc3,Bb4,d4,exd4,Nxd4,h6,e3,Nxd4,Qxd4,Nf6,Bd2,O-O,Bd3,b6,O-O,Bc5,Qf4,Bd6,Qf3,c6,Ne4,Nxe4,Qxe4,f5,Qd4,Bc5,Qf4,Qf6,Bc3,Qg6,b4,Bd6,Qd4,c5', 'Qd5+,Qe6,Qxa8', 'https://lichess.org/training/RPBuq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rPC2u', 'Rapid', 'kluks', 1980, 'Ahmadmarz', 1971, 'e3,e5,d3,d5,Ne2,f5,f4,e4,Ng3,Nf6,Be2,Bd6,d4,c5,c3,O-O,O-O,Nc6,Qe1,Bd7,Bb5,Ne7,Bxd7,Qxd7,Nd2,Ng6,Nb3,c4,Nd2,Ng4,h3,Nf6,Kh1,b5,Rg1,Qc7,Nxf5,Rae8,Nxd6,Qxd6,Nf1,a5,Bd2,Ne7,g4,Nc6,Qg3,b4,g5,Nh5,Qg4,g6,Ng3,Nxf4,exf4,e3,Be1,Rxf4,Qe2,Qe6,Kg2,Rh4,Rh1,bxc3,bxc3,Rf4,h4,Rg4,h5,Rxg5,hxg6,Qe4+,Qf3,Qxg6,Rf1,Qc2+,Kg1,Qg6,a4', 'e2,Rf2,Rxg3+,Qxg3,Qxg3+', 'https://lichess.org/training/rPC2u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RPcTi', 'Blitz', 'retardedplatypus123', 2622, 'GM pozvonochek', 2769, 'e4,e5,f4,exf4,Nc3,Qh4+,Ke2,Nc6,Nf3,Qh6,d4,Nf6,e5,Nh5,Kf2,d6,Nd5,Kd8,Bc4,Be6,a3,g5,h4,g4,Ng5,dxe5,dxe5,Bc5+,Ke1,Kc8,Rf1,Nxe5,Ba2,Re8,b4,Bxd5,Qxd5,Nf3+,Kd1,Rd8,Qxd8+,Kxd8,Nxf7+,Ke7,Nxh6,Rd8+,Ke2', 'Ng3#', 'https://lichess.org/training/RPcTi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rPdkI', 'Rapid', 'vbajnok', 1821, 'rodrigoaia', 1829, 'e4,e5,Nf3,Nc6,Bb5,d5,Nxe5,dxe4,Qh5,Qd5,Bxc6+,bxc6,Nc3,g6', 'Nxd5,gxh5,Nxc7+', 'https://lichess.org/training/rPdkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rpdqd', 'Rapid', 'Flockerzocker', 2196, 'dignocrib', 2152, 'd4,d5,Nc3,c6,e4,dxe4,f3,exf3,Nxf3,Bg4,h3,Bxf3,Qxf3,e6,g4,Qxd4,Be3,Qf6,Qg3,Bb4,O-O-O,Bxc3,Qc7,Bxb2+,Kb1,Na6,Qxb7,Rb8,Qd7+,Kf8,Bc5+,Ne7', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/rpdqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rpdwK', 'Rapid', 'Raymod006', 1818, 'Hiishiengshun', 1854, 'e4,c5,Nf3,Nc6,Bc4,e5,O-O,Nf6,Nc3,d6,d3,Bg4,Nd5,Be7,h3,Bh5,c3,a6,a4,Na5,Ba2,b5,g4,Nxg4,hxg4,Bxg4,b4,Nc6,axb5,axb5,Nxe7,Qxe7,Bg5,f6,Bh4,cxb4,Bf7+', 'Kxf7,Rxa8,Rxa8', 'https://lichess.org/training/rpdwK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RPfim', 'Blitz', 'Evgeny760127', 2302, 'WIM PHOENIXME', 2293, 'd3,d5,c3,c5,Nd2,Nc6,h3,e5,g4,Be6,Bg2,Qd7,Qa4,O-O-O,Nf1,g6,Ng3,f5,gxf5,gxf5,Nf3,h6,Nh4,Nge7,Nh5,Qe8,Ng3,Rg8,Bf3,f4,Bh5,Qd7,Nf1,Rg5,Bf3,Nf5,Nxf5,Bxf5,Bd2,c4,dxc4,e4,Bg4,Bxg4,hxg4,Rxg4,cxd5,Qxd5,O-O-O,Rg6,Bxf4,Qf5,Rxd8+,Kxd8,e3,Bd6,Ng3,Qg4,Bxd6,Rxd6,Qxe4,Qg8,b3,Kc8,Rd1,Rxd1+,Kxd1,Qg7,Kc2,Kc7,a4,a6,Qf4+,Kc8,e4,Qe7,Qf5+,Kb8,b4,Qc7,a5', 'Nd4+,Kd2,Nxf5', 'https://lichess.org/training/RPfim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RPgrh', 'Rapid', 'tenochi', 1850, 'GangstaPlayer', 1725, 'e4,d5,e5,c5,Nf3,Nc6,Bb5,Qc7,Bxc6+,Qxc6,b3,Be6,Bb2,f6,exf6,Nxf6,O-O,O-O-O,Ne5,Qd6,Re1,g6,Nc3,Bg7,Nb5,Qb6,a4,a6,Nc3,d4,Ne4,Rd5,Nxf6,Bxf6,Nc4,Qc6,Qf3,Rf5', 'Qxc6+,bxc6,Rxe6', 'https://lichess.org/training/RPgrh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rPgT6', 'Rapid', 'Senazhatski', 1732, 'Magic_killer86', 1689, 'e4,c6,Nf3,d5,exd5,cxd5,d3,Bg4,h3,Bxf3,Qxf3,Nf6,Bg5,Nc6,Bxf6,exf6,Nc3,Bb4,O-O-O,Bxc3,bxc3,O-O,g4,Qb6,Bg2,Rad8,g5,fxg5,Rhe1,d4,c4,Rfe8,Qh5,Qa5,Be4,Qc3', 'Qxh7+,Kf8,Qh8+,Ke7,Bxc6+', 'https://lichess.org/training/rPgT6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RpH32', 'Rapid', 'flavio_lima', 1802, 'Nazghul92', 1824, 'd4,Nf6,c4,g6,Nc3,d5,Bf4,Bg7,Nf3,O-O,c5,Nbd7,e3,a6,Bd3,Re8,Ne5,Nxe5,Bxe5,Be6,Qc2,b6,c6,Ng4,Bxg7,Kxg7,h3,Nf6,Ne2,Qd6,a3,b5,b4,Rab8,Rc1,Rb6,Qc3,Ne4', 'Bxe4,dxe4,d5+,f6,dxe6', 'https://lichess.org/training/RpH32');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rpHim', 'Classical', 'TimK12', 1683, 'oconer', 1607, 'e4,e5,Nf3,d6,d4,Nd7,d5,g6,Ng5,h6,Nf3,Ndf6,Nc3,a6,h3,Bd7,g4,g5,h4,Nxg4,hxg5,Bg7,gxh6,Bxh6,Bxh6,N8xh6,Bh3,Qe7,Bxg4,Bxg4,Qd3,O-O-O,O-O-O,Qf6,Nd2,Bxd1,Nxd1,Ng4,Rxh8,Rxh8,f3,Nh2,Qe2,Qg5,b3,f5,exf5,Qxf5,Qg2,Rh3,Qg8+,Kd7,Qg7+,Ke8,Qg8+,Qf8', 'Qe6+,Kd8,Qxh3', 'https://lichess.org/training/rpHim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rpHoK', 'Classical', 'Simuncro1', 1729, 'Zer0Requiem', 1624, 'e4,c5,Nc3,Nc6,Bc4,Nf6,Nf3,e5,a3,h6,h3,a6,d3,b5,Bd5,Nxd5,Nxd5,d6,O-O,Be7,Nh2,Bg5,c3,Ne7,Ne3,Bf4,Nc2,Ng6,Qf3,Nh4,Qe2,Bxh3,Ne1,Bxg2,Nxg2,Qg5,Qg4', 'Bxh2+,Kxh2,Qxg4', 'https://lichess.org/training/rpHoK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rPiJB', 'Blitz', 'abesso', 1774, 'Giorgisha1sd', 1534, 'c4,e5,Nc3,Nc6,Nf3,h6,e4,Nf6,d3,Nd4,Nxd4,exd4,Nd5,Nxd5,cxd5,c6,dxc6,dxc6,Qb3,Bd6,Be2,O-O,Bf3,b5,a4,Be6,Qc2,b4,Qxc6,Rc8,Qa6,Bb8,O-O,Qf6,Qb5,Qg6,Kh1,b3,Bd2,f5,exf5,Rxf5,Be4,a6,Bxf5,Bxf5,Qxb3+,Kh7,Rac1,Bxh2,Rxc8,Qh5,Qg8+,Kg6,Rc6+', 'Bd6+,Kg1,Qh2#', 'https://lichess.org/training/rPiJB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rPJ5p', 'Rapid', 'CrazyPatryk', 1829, 'Lasko123', 1780, 'e4,d5,exd5,Nf6,Bc4,Nxd5,Nc3,Nxc3,bxc3,Nc6,Qf3,Ne5,Qe4,Nxc4,Qxc4,e6,Ne2,Bd6,O-O,O-O,Qg4,e5,Qh5,Qd7,d4,exd4,cxd4,Re8,Be3,Qc6,c3,Be6,Rfd1,Qe4,Ng3,Bxg3,hxg3,Bg4,Qc5,Bxd1,Rxd1,c6,Qb4,b6,a4,Rad8,a5,Rd5,axb6,Rb5,Qd6,axb6,Qd7,Ra5,Qb7,Qc2,Rc1,Qxc1+,Bxc1', 'Re1+,Kh2,Rh5#', 'https://lichess.org/training/rPJ5p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rPL3H', 'Rapid', 'd0t2', 1646, 'stapper', 1643, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,c6,e3,Be7,Bd3,h6,O-O,O-O,Re1,Nbd7,e4,dxe4,Nxe4,a6,Be3,b6,Qc2,Bb7,Qd2,a5,Bxh6,Bb4,Qg5,g6,Re3,Re8,Nxf6+,Qxf6,Qxf6,Nxf6,Ne5,Bd2,Rh3,Bxh6,Rxh6,Kg7,Rh3,Rh8,Rg3,Rh6,Re1,c5,Ree3,cxd4,Re2,Rc8,f4,b5,f5,exf5,Bxf5,Rc5,Bd3,bxc4,Nxc4,Bd5,Re5,Nh5,Rf3,Nf4', 'Rxf4,Bxc4,Rxc5', 'https://lichess.org/training/rPL3H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RPLq5', 'Blitz', 'MrTwoEyes', 1886, 'jeff8888', 1730, 'd4,e6,c4,f5,g3,Nf6,Bg2,Be7,Nc3,O-O,Nf3,d6,O-O,Nbd7,b3,a5,e4,Nxe4,Nxe4,fxe4,Nd2,d5,c5,Bf6,Bb2,Nxc5,Qc2,Nd3,Nxe4,dxe4,Bxe4,Nxb2,Bxh7+,Kh8,Bg6,Bxd4,Qe4,e5,Rfd1,Qf6,Rab1,Qxf2+,Kh1,Nxd1', 'Qh4+,Kg8,Qh7#', 'https://lichess.org/training/RPLq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rpM2Q', 'Blitz', 'bjur', 2046, 'Francesco95', 2044, 'c4,Nf6,Nc3,g6,e4,Bg7,g3,d6,Bg2,c5,Nge2,O-O,O-O,Nc6,d3,Bd7,f4,a6,Rb1,Bg4,h3,Bxe2,Nxe2,Nd7,f5,b5,b3,bxc4,dxc4,Nd4,Bb2,Nxe2+,Qxe2,Ne5,g4,Qc7,g5,a5,f6,exf6,gxf6,Bh6,Bc1,Bxc1,Rbxc1,Kh8,Rf4,d5,Rcf1,d4,Qd2,a4,R4f2,axb3,axb3,Rab8,Qh6,Rg8,Rf4,Nd7', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/rpM2Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RPncD', 'Blitz', 'Askar0012', 1581, 'ABSChemistry', 1582, 'c4,e5,Nc3,Bb4,Nf3,Nc6,g3,d6,Bg2,Bg4,O-O,Nf6,d4,e4,Ng5,Bf5,Ngxe4,Bxc3,Nxc3,O-O,e4,Bg6,d5,Ne5,b3,h6,f4,Ned7,f5,Bh7,h4,Re8,Rf4,Nc5,b4,Ncd7,a4,Ne5,c5,b6,c6,Qc8,b5,a6,bxa6,Qxa6,Nb5,Qc8,g4,Re7,g5,hxg5,hxg5,Ne8,Qh5,g6,f6,gxh5,fxe7,Ng6,Rf6,Qg4,Bb2,Qe2,Raf1,Qxb2,Rxf7,Qe5', 'Rf8+,Nxf8,exf8=Q#', 'https://lichess.org/training/RPncD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rPnt2', 'Rapid', 'AmarMohamed25', 1661, 'Sergiovines', 1655, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,b4,Nf6,Nc3,g6,Bg5,Bg7,Nd5,Nxd5', 'Qxg7,Qxg5,Qxh8+', 'https://lichess.org/training/rPnt2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rpqcu', 'Blitz', 'GlebKas', 1825, 'Veronika08', 1912, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bd7,d4,exd4,Nxd4,Nf6,Nxc6,Bxc6,Bxc6+,bxc6,Bg5,Be7,O-O,O-O,Qf3,h6,Bh4,Nh7,Bxe7,Qxe7,Rfe1,Qf6,Qxf6,Nxf6,Rad1,Rfe8,f3,Rad8,b3,d5,exd5,Rxe1+,Rxe1,cxd5,Rd1,c6,Kf2,Kf8,a4,a6,Na2,a5,Nc3,Ke7,Ke3,Kd6,Kd4,c5+,Kd3,Kc6,Ke2,d4,Ne4,Nxe4,fxe4,Re8,Kd3,Re5,Rf1,f6,Rf5,Kd6,Rxe5,Kxe5,g3,g6,Kc4,Kxe4,Kxc5,g5,b4,axb4,Kxb4,Kd5,Kb5,f5,a5,Kd6,Kb6,f4,a6,f3,a7,f2,a8=Q,f1=Q,Qb8+,Kd5,Qd8+,Kc4,Qc7+,Kd5,Qc6+,Ke5,Qc7+,Kf6,Qd6+,Kg7,Qxd4+,Kf7,Qd5+,Kf6,Qd8+,Kg7,Qe7+,Kg6,Qe8+,Kg7,Qe5+,Kg6,c4,Qf2+,Qc5,Qxh2,Qd6+,Kg7,Qe7+,Kg6,Qe8+,Kg7,Qe5+,Kg6,c5,Qf2,Qd6+,Kg7,Kc6,Qf3+,Kc7,Qa8,Qb6,h5,c6,h4,gxh4,gxh4,Qd4+,Kf7,Qxh4,Qa7+,Kd6,Qb8+,c7,Qb6+,Kd7', 'Qe6+,Kd8,Qe8#', 'https://lichess.org/training/Rpqcu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rPqDv', 'Rapid', 'fadzot', 1737, 'yuutin', 1809, 'e4,e5,Bc4,Nc6,Nf3,Bc5,d3,h6,O-O,Nf6,Be3,Bb6,h3,d5,exd5,Nxd5,Bxd5,Qxd5,Nc3,Qd6,Ne4,Qg6,Kh2,Bf5,Ng3,O-O,Nh4,Qf6,Nhxf5,Kh7,Bxb6,axb6,Ne3,Rfd8,Qe2,Nd4,Qg4,Ra4,Nh5,Qg6,Qxg6+,fxg6,Ng3,Rf8,b3,Ra5,c3,Ne6,b4,Ra3,Rfc1,Nf4,Nc4,Raa8,Nxe5,Rae8,d4,Nd5,a3,Rxf2,Rf1,Rc2,c4,Ne3,Nf3', 'Rxg2+,Kh1,Rxg3', 'https://lichess.org/training/rPqDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rpRgU', 'Blitz', 'vignesh58', 1755, 'Rudra64', 1685, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,Bg4,h3,Bh5,d3,Nd4,Nbd2,Nf6,c3,Nxf3+,Nxf3,Be7,Qa4+,c6,Nh2,b5,Bxb5,cxb5,Qxb5+,Nd7,Qc4,O-O,f4,Rc8,Qb3,Qb6+,Qxb6,Nxb6,f5,f6,g4,Bf7,Nf3,d5,g5,dxe4,dxe4,Bc4,Rf2,Bc5,Kg2,Bxf2,Kxf2,fxg5,Nxg5,h6,Nf3,Rf7,Nxe5,Re7,Bf4,Ba6,Kf3,Nc4,Ng6,Rd7,Rg1,Rcd8,b3,Rd3+,Kg4,Ne3+,Bxe3,Rxe3,Kf4,Rxh3,Ne5,Rxc3,f6,Rf8', 'Rxg7+,Kh8,Ng6#', 'https://lichess.org/training/rpRgU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rPsRn', 'Blitz', 'Ultraderechess', 2187, 'E4C5Resign', 2182, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,g6,Ng5,Ne5,Bb3,h6,f4,hxg5,fxe5,Be6,Ba4+,Bd7,Bb3,dxe5,Bxg5,Qa5,Bxf7+,Kxf7,Qxd7,Qb4,O-O+,Kg7,Nd5,Qxe4,Rae1,Qd4+,Kh1,Rh5,Be3,Qh4,h3,Kh8,Qe6,Nf6,Nxe7,Bxe7,Qxe7,Ne4,Rf8+,Rxf8,Qxf8+,Kh7,Rd1,Ng3+,Kg1,Ne2+,Kh2', 'Qg3+,Kh1,Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/rPsRn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RPUMd', 'Rapid', 'Khaled89', 2123, 'DrawMeister2015', 2056, 'e4,c6,d4,d5,Nc3,dxe4,Nge2,Bf5,Ng3,Bg6,h4,h6,Ncxe4,e6,h5,Bh7,c3,Nd7,Bf4,Ngf6,Nd6+,Bxd6,Bxd6,Nb6,Bc5,Nbd5,Qd2,b6,Ba3,a5,Be2,b5,Bc5,Nd7,a4,Nxc5,dxc5,bxa4,Bd1,Qe7,Bxa4,Qxc5,Qd4,Qxd4,Bxc6+,Ke7,cxd4,Ra6,Bxd5,exd5,Ra2,Rb8,O-O,a4,Rd1,Rb4,Nf1,Bc2,Ne3,Bb3,Raa1,Bc4,Rd2,g6,hxg6,fxg6,g4,h5,Kh2,hxg4,Ra3,Kf6,Kg3,Rab6,Nxg4+,Kg5,f3,Rxb2,Re3,Rxd2,f4+,Kh5', 'Re5+,g5,Rxg5#', 'https://lichess.org/training/RPUMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rpW3K', 'Rapid', 'mainDva', 1633, 'kicsinyuszi', 1615, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,h6,d4,exd4,cxd4,Bb6,O-O,Nf6,e5,Ng4,h3,h5,hxg4,hxg4,Nh2,Qh4,Bxf7+,Kxf7,Qb3+,Ke7,Qg3,Qxg3,fxg3,Rf8,Nxg4,Rxf1+,Kxf1,Bxd4,Nd2,Bxe5,Nxe5,Nxe5,Nf3,Nxf3,gxf3,d5,b3,Be6,Bb2,g6,Kf2,Rf8,Rc1,Kd6', 'Ba3+,Kd7,Bxf8', 'https://lichess.org/training/rpW3K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RpWOS', 'Blitz', 'YuriGor', 2026, 'omonim2007', 1979, 'g3,h5,Bg2,h4,b4,a5,b5,d6,Bb2,e5,d4,h3,Be4,f5,Bd5,Nf6,dxe5,Nxd5,Qxd5,c6,Qd3,Be6,exd6,Nd7,bxc6,bxc6,Nd2,Qb6,Bd4,c5,Qe3,Kf7,Ngf3,Rh5,Be5,Qc6,Rb1,Kg8,O-O,Bd5,c4,Be4,Rb5,Re8,Qf4,g5,Nxg5,Rxe5,g4,Rh6,gxf5,Bxf5,e4,Rg6,Rfb1,Bxe4', 'Qf7+,Kh8,Qh7#', 'https://lichess.org/training/RpWOS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RpWro', 'Blitz', 'marse54', 1752, 'Medette', 1762, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,d5,exd5,Qxd5,Be2,Bg4,c4,Qa5+,Nc3,Bb4,Bd2,Bxf3,Bxf3,Nd4,a3,Nxf3+,Qxf3,O-O-O,O-O,Bd6,b4,Bxb4,axb4,Qxb4,Rfc1,a6,Qe3,Kd7,Nd5,Nxd5,Qh3+,Ke7,Bxb4+,Nxb4,Rd1,h6,Qf5,f6,h4,Nc2,Rab1,Nd4,Qg6,Ne2+,Kh1,Nf4,Qxg7+,Ke6,Rxb7,Rhg8,Qxh6,Rh8,Qg7,Rdg8,Qxc7', 'Rxh4+,Kg1,Rxg2+,Kf1,Rh1#', 'https://lichess.org/training/RpWro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RpYjz', 'Rapid', 'claeris', 1733, 'miguelbasam', 1787, 'd4,d5,g3,Nf6,Bg2,g6,c3,Bg7,Bg5,O-O,Nf3,c6,h4,h6,Bxf6,Bxf6,Qd2,Kg7,g4,Bxg4,Qf4,Bh5,Ne5,Nd7,Ng4,Qb8,Qxh6+,Kg8,Nxf6+,Nxf6,Nd2', 'Ng4,Qg5,f6', 'https://lichess.org/training/RpYjz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RpYu4', 'Blitz', 'boleh_coba', 1848, 'binay10051971', 1866, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bb4+,c3,Bd6,c4,c6,c5,Bc7,O-O,O-O,h3,b6,Nc3,f5,cxb6,axb6,a4,Ba6,Bxa6,Nxa6,Be3,c5,dxc5,Nxc3,bxc3,bxc5,Qxd5+,Qxd5,Rfd1,Qf7,Re1,Rad8,Bg5,Rd3,Ne5,Qh5,Nxd3,Qxg5,Re3,f4,Rf3,Rd8,a5,c4,Nb4,Nxb4,cxb4,Rd3,a6,Rxf3,a7,Qd5', 'a8=Q+,Qxa8,Rxa8+,Kf7,gxf3', 'https://lichess.org/training/RpYu4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rPYx7', 'Rapid', 'prabhat11', 2056, 'mAit97', 1985, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bd3,a6,Na3,b5,Nd5,Be7,c4,Nxd5,exd5,Nd4,cxb5,Nxb5,Nxb5,axb5,Bxb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,a4,Bd8,Bd2,Bb6,a5,Bd4,Ra2,Qb5,Bc3,Qxd5,Bxd4,Qxa2,Bb6,Qxb2,Qxd6,h6,h3,Rfe8,Qd5,Qc2,Ra1,Qc8,Qe4,Re6,Re1,Qc6,Qxc6,Rxc6,Rxe5,Rc1+,Kh2,Rc2,Rd5,Rcc8,g4,Kh7,Rd7,f6,Kg3,Kg6,h4,Rc3+,f3,Ra3,h5+,Kh7,Rd5,Re8,Rf5,Re5,Rf4,Rexa5,Bxa5,Rxa5,Rb4,Ra7,Rb5,g5,hxg6+,Kxg6,Rb8,f5,Rb6+,Kg7,gxf5,Rf7,Kg4,Rf6,Rb7+,Rf7,Rb5,Rf6,Kh5,Kf7,Rb7+,Kg8,Kg4,Kf8,f4,Kg8,Re7,Kf8,Re6,Kf7,Re5,Kf8,Kh5,Kf7,Rb5,Rc6,Re5,Rf6,Re6', 'Rxf5+,Kg4,Kxe6', 'https://lichess.org/training/rPYx7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rPZOK', 'Rapid', 'ErikAlavez', 1759, 'Ghabriel', 1703, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,d3,Nf6,h3,h6,O-O,O-O,Be3,Bb6,Qd2,Re8,Nd5,Nxd5,Bxd5,Ne7,Bb3,c6,Bxh6,gxh6,Qxh6,d5,Ng5,Be6,Qh7+,Kf8,Qh8+,Ng8,exd5,cxd5,Nh7+,Ke7,Qg7,Kd7,Qg3,Nf6,Nxf6+,Qxf6,Ba4+,Kd8,Bxe8,Kxe8,Kh1,Rc8,c3,d4,cxd4,Bxd4,Rac1,Bxb2', 'Qg8+,Ke7,Rxc8,Bxc8,Qxc8', 'https://lichess.org/training/rPZOK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rq0Rb', 'Rapid', 'xJDFx', 1725, 'TipoChess22', 1810, 'e4,g6,d4,Bg7,f4,d6,e5,Nd7,Nf3,e6,Be2,c6,O-O,Qc7,c3,a5,a4,Nb6,b3,Nd5,Bd2,dxe5,fxe5,Nge7,c4,Nb6,Nc3,c5,Nb5,Qb8,Nd6+,Kf8,dxc5,Nd7,Be3,Nxe5,Rb1,f5,Bd4,Nxf3+,Bxf3,e5,Bb2,Qc7,Bd5', 'Qxc5+,Rf2,Qxd6', 'https://lichess.org/training/rq0Rb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rq267', 'Classical', 'ajmbek', 1820, 'chezzarchess', 1747, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Bg4,O-O,Ne7,d4,Nbc6,Bxf4,O-O-O,Ne2,Ng6,Bg3,Bd6,c3,Bxg3,Nxg3,f6,Qc2,Rhe8,b4,Qb6,a4,Nxb4,cxb4,Bxf3,Rxf3', 'Qxd4+,Rf2,Qxa1+', 'https://lichess.org/training/Rq267');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rq2zy', 'Blitz', 'GM rasulovvugar', 2660, 'WIM PotapovaM', 2512, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,b5,Bg5,Be7,Qf3,Qb6,O-O-O,Nbd7,Bxe6,Ne5,Qh3,fxe6,f4,Neg4,Bxf6,Bxf6,Ndxb5,Nf2,Nxd6+,Qxd6,Rxd6,Nxh3,gxh3,Bxc3,bxc3,Ke7,e5,Bb7,Rg1,g6,h4,Be4,h5,Rhd8,Rb6,Rdb8,Rd6,Rc8,Rg3,Rc6,Rd4,Bf5,hxg6,hxg6,h4,Rh8,c4,Rxh4,Rb3,Rc7,c5,Rh1+,Kb2,Rh2,Rc3,Rc6,Rd6,Be4,Rc4,Bd5,Rc3,Rh8,Ka3,Rhc8,Kb4,Rb8+,Ka3,Rb5,Rh3,Rxd6,Rh7+,Kd8,cxd6,Rc5,Kb2,Rc4,Rf7,a5,Rf6,a4,c3,Re4,Ka3,Rc4,Kb2,Kd7,Rf7+,Ke8,Re7+,Kd8,Rg7,Rxf4,Rg8+,Kd7,Rg7+,Kd8,Rg8+,Kd7,Rg7+,Kc6,Rc7+,Kb6,Rc8,Rf7,c4,Bc6,Ka3,Kc5,Kb2,Rb7+,Kc3,a3,Rc7,Rb8,Rg7,Rb1,Rxg6,Rc1+,Kd2,Rxc4,Rxe6,Rd4+,Ke3,Rd5,Kf4,Rd4+,Kg5,Rd1,Re7,Rg1+,Kf6,Rf1+,Ke6,Re1,Rc7,Rh1', 'd7,Rd1,Ke7', 'https://lichess.org/training/rq2zy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rq3X2', 'Classical', 'tsobas', 1736, 'Samagace69', 1831, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be6,Be3,Nbd7,Qd2,Be7,O-O-O,Qc7,h4,b5,g4,b4,Ne2,Bxb3,axb3,Qa5,Qe1,Rd8,h5,Nc5,Bxc5', 'Qa1+,Kd2,dxc5+', 'https://lichess.org/training/rq3X2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rq5gT', 'Rapid', 'tslayer', 1783, 'gohan78', 1926, 'e4,e5,Nf3,Nc6,Bb5,Qe7,Bxc6,dxc6,O-O,Bg4,Nc3,Nf6,h3,Bh5,d3,h6,b3,O-O-O,a4,Qb4,Bd2,Bxf3,Qxf3,Qc5,Rab1,Qd4,Ne2,Qc5,Be3,Qxc2,Bxa7,b6,Rfc1,Qxd3,Qf5+,Kb7,Bxb6,cxb6,Nc3,Bd6,b4,Qd2,b5,cxb5,Nxb5,Rhe8,Rd1,Qc2,Rbc1,Qb2,a5,Qxb5,axb6,Qd7,Qf3,Qa4,Ra1,Qxe4,Ra7+,Kxb6,Qb3+,Qb4', 'Rxd6+,Rxd6,Qxb4+,Kxa7,Qxd6', 'https://lichess.org/training/rq5gT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rQaNH', 'Blitz', 'zaaass', 1832, 'Den19987', 1803, 'Nf3,d5,d4,c6,Bf4,Nf6,c3,Bf5,e3,e6,Nbd2,Bd6,Bg5,Nbd7,h3,h6,Bh4,O-O,Bxf6,Nxf6,Nh4,Bh7,Nhf3,Re8,Be2,e5,dxe5,Bxe5,Nxe5,Rxe5,Nf3,Re8,O-O,Ne4,Bd3,Qf6,Nd2,Rad8,Qe2,Re6,Nxe4,Bxe4,Bxe4,Rxe4,Rad1,Rde8,Qd3,Rh4,a3,Qg5,Kh1,Re6,f4,Qh5,Rd2,Rg6,Rdf2,Rg3,Qc2,Rxe3,Qd2,Rg3,Qc2,g5,fxg5', 'Rhxh3+,gxh3,Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/rQaNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rqeAC', 'Rapid', 'sl11235', 1832, 'Sofia2011', 1894, 'e4,e5,Bc4,Nf6,Nc3,Bb4,Nge2,O-O,O-O,c6,a3,Bxc3,Nxc3,d5,exd5,cxd5,Ba2,Be6,d4,e4,Bg5,Nbd7,Bxd5,h6,Bxe6,hxg5,Bf5,Re8,Re1,Qa5,Bxe4,Nxe4,Rxe4,Qf5,Qe2,Nf6,Rxe8+,Rxe8,Qd3,Qe6,d5,Qb6,b4,Ng4,Qf3,Qd4,Rd1,Qe5,g3,f5,h3,Nf6,Kg2,g4,Qf4,gxh3+,Kxh3,Ng4,Rd3', 'Qxf4,gxf4,Nxf2+,Kg2,Nxd3', 'https://lichess.org/training/rqeAC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RQEtC', 'Rapid', 'AmirHosseinGivehei', 1638, 'joni-plur', 1789, 'd4,e6,c4,d5,Nc3,Bb4,b3,Ne7,Bb2,O-O,Nf3,Nbc6,e3,f6,Be2,dxc4,Bxc4,Bxc3+,Bxc3,a6,O-O,b5,Be2,Nd5,Rc1,Bd7,e4,Nxc3,Rxc3,Kh8,d5,exd5,exd5,Ne5,Nxe5,fxe5,Re1,b4,Rc4,Qf6,f3,a5,Rxc7', 'Qb6+,Kh1,Qxc7', 'https://lichess.org/training/RQEtC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RqfDe', 'Rapid', 'BenLui', 1648, 'indus', 2002, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,h3,O-O,Bc4,c5,d5,a6,a3,Nbd7,O-O,b5,Ba2,b4,axb4,cxb4,Ne2,Nxe4,Be3,Bxb2,Rb1,Bc3,Bd4,Bxd4,Nexd4,a5,Ra1,Nc3,Qd3,Nf6,Ne2,Nxa2,Rxa2,Ba6,c4,bxc3,Qxc3,Nxd5,Qd2,Bxe2,Qxe2,Nc3,Qb2,Nxa2,Ng5,Nb4,Qd4,h6,Ne4,d5,Ng3,Qc7,h4,e5,Qg4,h5,Nxh5,Rac8,Nf6+,Kg7,Qg5,Qd8,Nh5+,Kh8', 'Qh6+,Kg8,Qg7#', 'https://lichess.org/training/RqfDe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RQflx', 'Blitz', 'FM jgeg', 2496, 'sanguinetti', 2478, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,d6,f3,c5,e4,e5,Be3,b6,Bd3,Nc6,Ne2,O-O,O-O,Ba6,g4,Na5,Ng3,Bxc4,Nf5,Bxd3,Qxd3,cxd4,cxd4,Rc8,Ra2,g6,Nh6+,Kg7,Rg2,Nc4,Bc1,Nd7,f4,Kxh6,f5+,Kg7,f6+,Kh8,Qh3,Rg8,Rf3,Nf8,Bh6,exd4,Rgf2,Ne5,Rg3,d3,Qh4,Rc2', 'Bg7+,Rxg7,fxg7+,Kxg7,Qxd8', 'https://lichess.org/training/RQflx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rqgOM', 'Blitz', 'tritrac', 1654, 'FM AntonChess123', 1815, 'Nf3,Nf6,g3,d5,Bg2,Nc6,d3,e5,O-O,Be7,Bg5,O-O,c4,dxc4,dxc4,h6,Be3,Ng4,Bc1,Be6,h3,Nf6,b3,Qxd1,Rxd1,Rfd8,Rxd8+,Rxd8,Nc3,Bb4,Bb2,Nd4,Nxe5', 'Bxc3,Bxc3,Nxe2+,Kf1,Nxc3', 'https://lichess.org/training/rqgOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rqGUX', 'Rapid', 'cristof012', 1906, 'jakerva', 1910, 'e4,d5,exd5,Nf6,d4,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,c6,O-O,Nbd7,h3,Bh5,Bg5,e6,Qd2,Be7,Ne5,Bxe2,Qxe2,Nxe5,dxe5,Nd5,Nxd5,cxd5,Bxe7,Qxe7,Kh1,O-O,c4,dxc4,Qxc4,Rac8,Qe4,Rfd8,Rfd1,f5,exf6,gxf6,Rxd8+,Rxd8,Re1,e5,f4,Rd4', 'Qxd4,exd4,Rxe7', 'https://lichess.org/training/rqGUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RQgYM', 'Blitz', 'Pieretti', 1731, 'PaulRizzi', 1528, 'e4,e5,Nf3,Nc6,Bc4,a6,d3,Nf6,Ng5,d5,exd5,Bc5,dxc6,Bxf2+,Kxf2,Ng4+,Kg1', 'Qd4+,Be3,Qxe3+,Kf1,Qf2#', 'https://lichess.org/training/RQgYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rqkAk', 'Blitz', 'ElyShuri', 2274, 'NM K_E_L_Z', 2321, 'd4,d5,c4,e6,Nf3,c6,g3,dxc4,Bg2,Nd7,O-O,b5,a4,Bb7,e4,Ngf6,Re1,Be7,d5,exd5,e5,Ne4,Nc3,Nxc3,bxc3,Nc5,Nd4,Nxa4,e6,O-O,exf7+,Rxf7,Ne6,Qb6,Be3,Nc5,Bh3,Kh8,Qh5,Rf6,Bg5,Nxe6', 'Bxf6,Bxf6,Rxe6', 'https://lichess.org/training/rqkAk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RqLru', 'Blitz', 'FM Satscho', 2398, 'NikitaKakakov', 2319, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Bd7,Nf3,Bc6,Bd3,Nd7,Qe2,Ngf6,Nxf6+,Qxf6,h4,Bxf3,gxf3,Qxd4,c3,Qd6,Bg5,Be7,O-O-O,Bxg5+,hxg5,O-O-O,Qe3,Qc5,Qf4,Ne5,Be4,Rxd1+,Rxd1,Rd8', 'Bxb7+,Kxb7,Rxd8', 'https://lichess.org/training/RqLru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rqMC5', 'Classical', 'julianaoppenheimer', 1794, 'Hassan2024', 1809, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Nc3,Ngxe5,Nxe5,Nxe5,e4,d6,Bf4,Be7,Bxe5,dxe5,Qxd8+,Bxd8,O-O-O,O-O,Nd5,c6,Nb4,Bg5+,Kc2,Be6,h4,Bh6,f3,f5,Rd6,Rae8,exf5,Bxf5+,Kc3,Be6,Nd3,g6,Kb3,Bg7,h5,b5,Nf2,bxc4+,Bxc4', 'Rb8+,Kc2,Bxc4', 'https://lichess.org/training/rqMC5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rqmMo', 'Blitz', 'elimelech4940', 1729, 'an_ud_infp', 1762, 'a3,e5,c3,Nc6,e3,d5,g3,f5,Bb5,e4,Bxc6+,bxc6,d3,c5,dxe4,fxe4,Qh5+,Ke7,f3,Nf6,Qe5+,Be6,fxe4,dxe4,Qxc5+,Kf7,Qd4,Qxd4,exd4,c5,dxc5,Bxc5,Nd2,e3,Nf1,Ng4,h3,Nf2,Rh2,Nd3+,Ke2,Bc4,Kf3,Rae8,Bxe3,Bxe3,Nxe3,Ne5+,Kf4,g5+,Kxg5,Nf3+,Nxf3,Rxe3,Rf2,Rg8+,Kh4,Re4+,g4,Ke7,Ng5,Re3,Rf4,h6,Rxc4', 'hxg5+,Kh5,Rxh3#', 'https://lichess.org/training/rqmMo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RqmnQ', 'Blitz', 'CHESSFICH', 2172, 'FearlessYoung', 1776, 'd4,Nf6,c4,c5,Nf3,cxd4,Nxd4,e6,Nc3,Nc6,e4,Bc5,Nxc6,bxc6,Bd3,e5,O-O,O-O,Bg5,h6,Bh4,d6,Kh1,Rb8,Rb1,g5,Bg3,Bg4,f3,Be6,Qd2,Nh5,Ne2,Nf4,Bxf4,gxf4,a3,Kh8,b4,Rg8,bxc5,Qg5,Ng1,Rbd8,Rb2,dxc5,Qc3,h5,Rff2,h4,h3,f6,Qa5,Rxd3,Qxc5,Rd1,Rfd2,Rf1,Rf2,Bxh3,Rxf1', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/RqmnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rqNth', 'Rapid', 'Tt-2005', 1744, 'halimo20190', 1759, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,d5,d3,Qe7,dxe4,Qxe5,exd5,Qxe2+,Bxe2,Bf5,Bd3,Bxd3,cxd3,Bb4+,Bd2,Bxd2+,Nxd2,O-O,Rc1,Re8+,Ne4,f5,O-O,fxe4,dxe4,c6,Rfe1,cxd5,exd5,Rxe1+,Rxe1,Nd7,d6,Rd8,Re7,Kf8,h3,Nf6,Rxb7,Rxd6,Rxa7,Rd2,Rb7,Rd1+,Kh2,Rd2,Kg1,Ne4,f3,Nc5,Rb5,Na4,b3,Nc3,Rc5,Nxa2,Kh2,Rb2,Ra5,Nc1,Rc5,Rb1,b4,Nd3,Rd5,Nf4', 'Rf5+,Ke7,Rxf4', 'https://lichess.org/training/rqNth');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rqoai', 'Rapid', 'dgmn', 2023, 'NikitaChess2004', 1963, 'e4,c5,Bc4,e5,Qh5,Qe7,Nc3,Nf6,Qf3,Nc6,Nd5,Nxd5,Bxd5,Nd4,Qd3,g6,c3,Nc6,Qf3,Bg7,d3,O-O,Nh3,d6,Bg5,Qd7,Bh4,h6,Qg3,b6,Qxg6,Ne7,Bxe7,Qxe7,Qg3,Bb7,Bxb7,Qxb7,O-O,Kh7,f3,Qd7,Nf2,f5,exf5,Rxf5,Qh3,Raf8,Ne4,Qe7,Qg3,d5,Nd2,Rg5,Qf2,Rg6,Rae1,Qd7,Kh1,Rgf6,Qh4,Rf4,Qg3,R4f7,Qf2,Qb5,c4,Qxb2,cxd5,Qxa2,Ne4,Qxd5,Qh4,Kg8,Rd1,Rf4,Qe1,a5,Qc3,Qd4,Qb3+,Kh8,Qxb6,Qb4,Qxc5,Rxe4,Qd5,Ref4,g3,R4f7,Rb1,Qe7,Qxa5,Rxf3,Rxf3,Rxf3,Qd5,Rf8,Kg2,Qf7,Qe4,Qf2+,Kh3,Qf5+,Kg2,Qxe4+,dxe4,Rc8,Rb4,Rc2+,Kh3,Rd2,Rb3,Rd4,Re3,Kh7,Kg4,Bf8,Kf5,Bd6,h4,Rd1,h5,Rf1+,Ke6,Rd1,Kf5,Rh1,g4,Rf1+,Ke6,Rd1,Rf3,Rd4,Rf7+,Kg8,Rf6,Kg7,Rf7+,Kg8,Rb7,Kf8,Rh7,Kg8,Rxh6,Kg7,Rg6+,Kh7,g5,Bb8,Kf5,Rd6,Rf6,Rxf6+,gxf6,Kg8,Ke6,Kf8,h6,Kg8,Ke7,Kh7,f7,Ba7,Ke6,Bc5,Kxe5,Kxh6,Kf6,Kh7', 'e5,Kh6,e6,Bd4+,Ke7', 'https://lichess.org/training/rqoai');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rqOFA', 'Rapid', 'amara61', 2112, 'Neapolci', 1708, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Nxd4,Nf6,Nc3,c5,Nf3,Bg4,O-O,Nc6,h3,Bh5,Bb5,Be7,Bf4,g5,Bg3,a6,Bxc6+,bxc6,Re1,g4,hxg4,Bxg4,Qd3,Qd7,Rad1,O-O-O,Qxa6+,Qb7,Qxb7+,Kxb7,a3,Nh7,Rd3,h5,e5,d5,Na4,Ng5,Nxg5,Bxg5,Nxc5+,Kb6,Na4+,Ka5,Nc3,h4,b4+,Ka6,Bh2,Bf5,Rf3,Be6,Na4,Kb5,Nc5,Ra8,Rc3,Bd2,Ree3,Bxe3,fxe3,h3,g3,Rhf8,e4,dxe4,Nxe4,Bd5,Nd6+,Kb6,Re3,Rad8,c4,Be6,c5+,Ka6,Rf3,Bd5,Rf6,Ra8,g4,Rg8,Rf4,Be6,Kf2,Bxg4,Rxf7,Be6,Rf6,Rg2+,Ke3,Bd5,Bf4,h2,Rh6,Re2+', 'Kxe2,h1=Q,Rxh1,Bxh1,e6', 'https://lichess.org/training/rqOFA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RQq4Y', 'Blitz', 'beyazfil', 2038, 'FD_Executioner', 2153, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d5,a3,Bxc3+,Qxc3,O-O,Bg5,dxc4,Qxc4,Qd5,Qxd5,Nxd5,Nf3,f6,Bh4,Nd7,Bg3,c6,e4,Ne7,Bc4,Nb6,Bb3,g5,O-O,Kg7,e5,Ned5,exf6+,Kxf6,Be5+,Kg6,Bc2+,Kh5,h3,g4,hxg4+,Kxg4,Bxh7,Bd7,Nh2+,Kg5,g3,Nc4,Bg7,Rf7,f4+,Kh5,g4+,Kh4,Bh6,Rxh7', 'Bg5+,Kg3,Rf3#', 'https://lichess.org/training/RQq4Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RqRDf', 'Rapid', 'wernerbecker', 1691, 'empiretemple', 1737, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,d3,g6,Bg5,Bg7,Qd2,O-O,Bh6,Qc7,Nc3,a6,Bxg7,Kxg7,Ng5,h6,Nh3,Ng4,f3,Ngf6,f4,e6,Rae1,Rfe8,f5,exf5,exf5,g5,Ne4,d5,Nxf6,Nxf6,Nxg5,Ng4,Nf3,Rxe1,Rxe1,Rd8,h3,Nf6,Qf2,d4,g4,Kh7,Qh4,Kg7,g5,hxg5,Qxg5+,Kh7,Qxf6', 'Qg3+,Kh1,Qxf3+', 'https://lichess.org/training/RqRDf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rqteR', 'Blitz', 'DawgsofWar', 1685, 'New1200player', 1674, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Bf5,Nf3,e6,cxd5,Nxd5,Bb5+,Nc6,Qa4,Rc8,Ne5,Nxc3,bxc3,Be4,f3,Bd5,c4,a6,Nxc6,axb5,Nxd8,bxa4,cxd5,Rxd8,dxe6,Rxd4,exf7+,Kxf7,O-O,Bc5,Be3,Rc4,Bxc5,Rxc5,Rab1,b5,Rb4,Rb8,Rfb1,g5,Rxa4,Rbc8,Re4,Rc1+,Re1,Rxe1+,Rxe1,Rc2,Rb1,Rxa2,Rxb5,Kg6,Rb6+,Kf5,Rb5+,Kg6,Re5,h5,Kf1,Kf6,Re2,Ra1+,Kf2,Kf5,Rd2,Ke5,Re2+,Kf5,Rb2,g4,Rb5+,Kg6,fxg4,hxg4,Kg3,Ra2,Rb4,Kh5,h3,Ra3+,Kh2', 'g3+,Kg1,Ra1+,Rb1,Rxb1#', 'https://lichess.org/training/rqteR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rQtk2', 'Blitz', 'IM Nicah', 2433, 'luciano_maggiori', 2202, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ne5,h5,Bc4,Nh6,d4,d5,Bxd5,c6,Bb3,Bg7,Bxf4,O-O,Bxh6,Bxh6,Nxf7,Rxf7,Bxf7+,Kxf7,O-O+,Kg7,Qd3,Qxh4,g3,Qg5,Re1,Be6,d5,cxd5,Nc3,Nd7,exd5,Bf5,Qd4+,Qf6,Re7+,Kg6,Qxf6+,Nxf6,Rxb7,Rd8,Re1,Nxd5,Rd1,Be3+,Kh2,Be6,Nxd5,Rxd5,Rxd5,Bxd5,Re7,Bb6,b3,h4,gxh4,Bf2,h5+,Kxh5', 'Re5+,Kg6,Rxd5', 'https://lichess.org/training/rQtk2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rQTu6', 'Rapid', 'rabelo', 1949, 'ahmedmohamed89', 1903, 'e4,e5,Bc4,Bc5,Nf3,Nf6,O-O,Nxe4,d4,exd4,Nxd4,O-O,Be3,d5,Bb3,Qf6,Bxd5,Re8,Qf3,Qxf3,Nxf3,Bxe3,fxe3,Nf6,Bb3,Rxe3,Nc3,Be6,Bxe6,fxe6,Rad1,Nc6,h3,h6,Nb5,Rc8,c3,a6,Nbd4,Nxd4,Nxd4,e5', 'Nf5,Re2,Ne7+', 'https://lichess.org/training/rQTu6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RQvyw', 'Blitz', 'vasano', 2240, 'TonuHeinmets', 2260, 'e4,d6,d4,Nf6,Bd3,g6,h3,Bg7,f4,O-O,Nf3,Nc6,O-O,e5,f5,exd4,c3,dxc3,Nxc3,Ne5,Nxe5,dxe5,Qe2,c6,Bg5,Qb6+,Be3,Qc7,fxg6,hxg6,Rad1,Nh5,Bc4,Ng3,Qf3,Nxf1,Rxf1,a5,h4,b5,Be2,Be6,h5,Rfd8,h6,Bf8,Nd1,Kh7,Nf2,Be7,Ng4,Bxg4', 'Qxf7+,Kh8,Qg7#', 'https://lichess.org/training/RQvyw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rqXjB', 'Blitz', 'Dede-Liu39', 2442, 'IM LosXodos', 2431, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,g6,Bc4,Nh6,d3,Nf5,Bf4,Bg7,g4,Nd6,Bb3,Bxg4,Rg1,Bh5,Rg5,Nc6,Rxh5,gxh5,Ng5,e5,Qxh5,exf4,Nxf7,Qe7+,Kf1,Nxf7,Nd5,Qe5,Re1,O-O,Rxe5,Nfxe5,Nxc7+,Kh8,Nxa8,Rxa8,c3,Nxd3,Bc2,Nce5,Qf5,Rd8,Qe4,f3,b4,b5,h4,h6,Kg1,Bf6,Kh2,Rd7,Qf5,Kg7,h5,Rd6,Qe4,Nxf2,Qh7+,Kf8,Qxh6+,Ke7,Qh7+,Kd8,Bf5,Neg4+,Kg3,Be5+,Kxf3,Nf6,Qh8+,Ke7,Qg7+,Kd8,Qxa7,Nd1,h6,Nxc3,h7,Nxh7,Bxh7,Nd5,a3,Rf6+,Ke4,Nc7,Kxe5,Rf7,Bf5,Re7+,Kf4', 'Nd5+,Kf3,Rxa7', 'https://lichess.org/training/rqXjB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rQxvM', 'Rapid', 'Judoman', 1755, 'JNIV', 1698, 'e4,c5,Nf3,Nc6,Nc3,d6,Bb5,Qc7,d4,cxd4,Nxd4,Bd7,Nd5,Qa5+,Bd2,Qd8,Nxc6,bxc6,Bxc6,Bxc6,Nb4,Bxe4,f3,Bg6,c3,Nf6,Qa4+,Qd7,Qa6,e5,Bg5,Be7,O-O-O,Qf5', 'Qc6+,Qd7,Qxa8+', 'https://lichess.org/training/rQxvM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rqy9V', 'Rapid', 'joepeas', 2044, 'RazorTrack', 2171, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,f3,O-O,O-O,Nc6,Be3,Bd7,Qd2,Rc8,Bb3,Na5,Bh6,Qb6,Be3,Qa6,Kh1,Nc4,Bxc4,Qxc4,Nde2,a6,Nf4,Bb5,Ncd5,Nxd5,Nxd5,Qxc2,Nxe7+,Kh8,Nxc8,Qxd2,Bxd2,Bxf1,Nxd6,Bd3,Bc3,b5,Bxg7+,Kxg7,Rd1,Bc4,Nxc4,bxc4,h3,Rb8,Rb1,a5,b3,cxb3,Rxb3,Rxb3,axb3,Kf6,Kg1', 'Ke5,Kf2,Kd4', 'https://lichess.org/training/Rqy9V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rQZAI', 'Rapid', 'VitaGiannini', 1721, 'Latte10', 1799, 'e3,c5,b3,Nc6,Bb2,e5,Bb5,d6,Nc3,Bd7,Nge2,a6,Bxc6,Bxc6,O-O,Nf6,d4,cxd4,exd4,e4,d5,Bd7,Ng3,Be7,Ncxe4,Nxe4,Nxe4,O-O,c4,Bf5,Ng3,Bg6,Qg4,Bf6,Bxf6,Qxf6,a4,Rfe8,b4,b5,cxb5,axb5,a5,Bd3,Rfe1,Rxe1+,Rxe1,Qc3,Rd1,Bc2,Ne2,Qb2,Rc1,Re8,Qd7', 'Qxc1+,Nxc1,Re1#', 'https://lichess.org/training/rQZAI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rQzAL', 'Classical', 'Shlokmali09', 1771, 'thestrangerook', 1729, 'Nf3,d5,d4,c5,e3,Nc6,Bb5,Qb6,Bxc6+,Qxc6,dxc5,Bf5,O-O,Nf6,Nc3,e6,Bd2,Bxc5,a3,O-O,b4,Bd6,Nd4,Qd7,Nxf5,exf5,Be1,Be5,Rb1,Rac8,Ne2,Rfd8,c3,Qd6,Qb3,f4,exf4,Bxf4,Nd4,Be5,f3,Bxh2+,Kh1,Bg3', 'Nf5,Qf4,Nxg3', 'https://lichess.org/training/rQzAL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RQZEM', 'Classical', 'umaia', 1801, 'ssami', 1747, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bb5,e5,Nf3,Bb4,Bxc6,bxc6,Nxe5,Qa5,Qd4,Bc5,Qc4,Bxf2+,Kxf2,Qxe5,Rf1,Qxh2,Bf4,Qxf4+,Kg1,Qe5,Qxf7+,Kd8,Rf5,Qe7,Qc4,Nf6,Qa4,Bb7,Qa5+,Ke8', 'Re5,Qxe5,Qxe5+', 'https://lichess.org/training/RQZEM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RqzXp', 'Rapid', 'Mery77', 1920, 'Ralexx', 1971, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bb6,Bc4,Nge7,O-O,O-O,Nc3,Nxd4,Bxd4,Nc6,Bxb6,axb6,Nd5,d6,Qh5,Ne5,Bb3', 'Bg4,Qxe5,dxe5', 'https://lichess.org/training/RqzXp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rr3nK', 'Rapid', 'es123es', 2146, 'Fanes', 1829, 'd4,g6,Bf4,Bg7,e3,d6,Bd3,Nd7,h4,e5,dxe5,Nxe5,h5,Nxd3+,Qxd3,Bxb2', 'Qb5+,Bd7,Qxb2', 'https://lichess.org/training/Rr3nK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rR4nL', 'Classical', 'JEVH1987', 1938, 'nuclii', 1912, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Nc6,Be2,g6,O-O,Bg7,c4,Nb6,Bf4,O-O,Nc3,Bg4,h3,Bxf3,Bxf3,Nxc4,b3,Nb6,Re1,dxe5,dxe5,Qxd1,Raxd1,Rfd8,Rxd8+,Rxd8,Nb5,Nb4,Bxb7,Nxa2,Nxc7,Nb4,e6,f5,Nb5,a5,Rc1,Nd3,Bc7,Nxc1,Bxd8,a4,Bxb6,axb3,Na3,b2,Bd5,Ne2+,Kf1,Nc3,Bc6,b1=Q+,Nxb1,Nxb1,Ke2,Nc3+,Kd3,Be5,Bc5,Kf8,Bb4,Nd1,Bc5,Nb2+,Kc2,Nc4,Bd5,Nd6,g3,Kg7,f4,Bf6,Kd3,h6,Bc6,g5,Bb4,g4,hxg4,fxg4,Bxd6,exd6,Ke4,Be7,Kf5,h5,Be8,Kh6,Ke4,Bf8,Kf5,Be7,Bc6,Kg7,Be8,Kh6,Bf7,d5,Be8,d4,Ke4,Bf6,Kf5,Be7,Bb5,Kg7,Ke5,h4,gxh4', 'g3,Bf1,d3', 'https://lichess.org/training/rR4nL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RR5xs', 'Rapid', 'ali-geko', 1821, 'anatoliy_botalov', 1945, 'd4,d5,Bf4,Nf6,h3,Bf5,Nf3,e6,a3,c5,c3,Nc6,e3,Be7,Bb5,O-O,Bxc6,bxc6,Ne5,Qb6,b4,cxb4,axb4,a5,Rxa5,Rxa5,bxa5,Qxa5', 'Nxc6,Qb5,Nxe7+', 'https://lichess.org/training/RR5xs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RR6fx', 'Blitz', 'ahm_zaneer', 2263, 'Alexandr02', 1993, 'e4,d6,d4,c6,c4,Nd7,Nc3,h6,Be3,g5,h4,gxh4,Rxh4,Bg7,Nf3,Nf8,Qd3,Ng6,Rh1,Qb6,O-O-O,Qa5,Kb1,Nf6,Nd2,Ng4,Nb3,Qc7,Be2,Nxe3,Qxe3,a5,a3,a4,Nd2,Bd7,f4,b5,cxb5,cxb5,f5,Nf8,Nd5,Qa7,Rc1,Rc8,Rxc8+,Bxc8,Bxb5+,Bd7,Qc3,Qb8,Rc1,Bxb5,Qc8+,Qxc8', 'Rxc8+,Kd7,Nb6#', 'https://lichess.org/training/RR6fx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RR6M3', 'Rapid', 'ace227', 2200, 'PaoloScu', 2013, 'e4,Nf6,e5,Nd5,d4,d6,f4,Bf5,c4,Nb6,Be3,c5,dxc5,N6d7,cxd6,exd6,exd6,Qf6,Nc3,Bxd6,Nf3,O-O,Be2,Nc6,O-O,Rae8,Qd2,Rxe3,Nd5,Qe6,Nxe3,Bxf4,Qd1,Bxe3+,Kh1,Qh6,h3,Bxh3,gxh3,Qxh3+,Nh2,Nf6,Rf3,Qe6,Qf1,Ne5,Rxe3,h5,Re1,Qd6,Bxh5,Nxh5,Rxe5', 'Ng3+,Kg1,Nxf1', 'https://lichess.org/training/RR6M3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rr6pL', 'Blitz', 'Andrew-Caesar', 2257, 'NM gajardo', 2333, 'Nf3,Nf6,c4,e6,g3,d5,Bg2,c6,b3,Be7,Bb2,O-O,O-O,Nbd7,d4,b6,Nbd2,Ba6,Ne5,Nxe5,dxe5,Nd7,e4,dxc4,Nxc4,Bxc4,bxc4,Nc5,f4,Qxd1,Raxd1,Rfd8,f5,Bg5,Bd4', 'Rxd4,Rxd4,Be3+,Kh1,Bxd4', 'https://lichess.org/training/rr6pL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rr8Gh', 'Blitz', 'tolyaperelman', 1648, 'Harry_Dresden', 1696, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,Bg5,h6,Bh4,O-O,e3,Nbd7,Be2,c5,d5,Kh8,O-O,Qc7,Qc2,Kh7,a3,e5,dxe6,fxe6,Bd3,Ng4,Bxg6+,Kh8,h3,Nge5,Nxe5,Nxe5,Bd3,b6,b4,Bb7,Rad1,Qf7,Ne4,d5,Nd6,Qh5,Bg3,Bc6,cxd5,Bxd5,bxc5,Nf3+,Kh1,Nh4,Bxh4,Bxg2+,Kxg2,Qxh4,Ne4,Be5,Ng3,Qg5,Qe2,Bxg3,fxg3,Rg8,Qf3,Qe5,h4,Raf8,Qxf8', 'Qxg3+,Kh1,Qxh4#', 'https://lichess.org/training/rr8Gh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RRahX', 'Rapid', 'vapula', 1734, 'cavalldefoc', 1740, 'e4,Nc6,d4,d5,e5,Bf5,c3,f6,f4,Qd7,Nf3,e6,Be3,h5,Be2,Nh6,h3,Be4,Nbd2,Bxf3,Nxf3,Nf5,Bf2,h4,Qb3,Na5,Qc2,a6,Bd3,Ng3,Bxg3,hxg3,Bg6+,Kd8,O-O-O,f5,h4,Be7,h5,c5,Kb1,Qb5,Rh3,Nc4,Re1', 'Na3+,Kc1,Nxc2', 'https://lichess.org/training/RRahX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrAKO', 'Blitz', 'FM mfschulz', 2246, 'lipu33', 2074, 'd4,d5,Bg5,Nd7,Nf3,Ngf6,Nbd2,e6,e3,Be7,Bd3,c5,c3,b6,Qe2,Bb7,Ba6,Qc8,Bxb7,Qxb7,O-O,h6,Bh4,O-O,a4,a6,a5,b5,dxc5,Nxc5,Ne5,Ncd7,Nxd7,Qxd7,Nf3,Rac8,Rfd1,Qc7,Rd4,Ne4,Bxe7,Qxe7,Rad1,Qc7,Ra1,Qc5,Nd2,Nd6,Rh4,Nf5,Rh3,b4,e4,dxe4,Nxe4,Qc4,Qg4,bxc3,bxc3,Rfd8,Rf1,Kf8,Qf4,Rd3,Rxd3,Qxd3,g4,Ne7', 'Nd6,f6,Nxc8', 'https://lichess.org/training/rrAKO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rRaym', 'Rapid', 'tzimnark', 1805, 'therafs', 1810, 'c4,g6,g3,d5,cxd5,Qxd5,Nf3,Bg4,Bg2,Bf5,Nc3,Qd7,O-O,c6,e4,Be6,Re1,Na6,d3,Nb4,Ng5,O-O-O,Nxe6,Qxe6,Bf1,Bg7,a3,Bxc3,bxc3,Na6,d4,Nc7,Bf4,h6,Qa4,Kb8,Bxc7+,Kxc7,Qxa7,Nf6,Rab1,Rb8,Qa5+,Kd7,f3,Rhd8,Rb2,Ke8,Qc5,Nd5,Bc4', 'b6,Rxb6,Rxb6,Qxb6,Nxb6,Bxe6,fxe6', 'https://lichess.org/training/rRaym');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rrben', 'Rapid', 'TicTacCheck', 1891, 'TaikiMaster', 1888, 'd4,d5,Bf4,Nf6,e3,c5,c3,Nc6,Bb5,a6,Bd3,Bg4,Nf3,e6,h3,Bh5,Nbd2,Qa5,Nb3,Qa4,g4,Bg6,Bxg6,hxg6,Nxc5,Qxd1+,Rxd1,Bxc5,dxc5,Nxg4,Ke2,Nf6,Nd4,Nxd4+,cxd4,Ne4,f3,Nf6,Rd3,Rd8,Rb3,Rd7,Kf2,Nh5,Bd6,Nf6,Kg2,Rh5,Rc1,Rg5+,Kf2,Rf5,Ke2,Rh5,c6,bxc6,Rxc6,a5,Rc8+,Rd8,Rbb8', 'Rxc8,Rxc8+,Kd7,Ra8,Kxd6', 'https://lichess.org/training/Rrben');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RRbj7', 'Rapid', 'CatalanMasterrace', 2148, 'Royal_Gold', 2171, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,h4,h5,Bg5,c5,d5,e6,Nh3,exd5,exd5,Re8,f3,Nbd7,Nf2,Ne5,Nfe4,Bf5,Qa4,a6,O-O-O,Qe7,Qb3,Ned7,Bd3,Qe5,f4,Qd4,Nxf6+,Nxf6,Bxf5,Qe3+,Kb1,gxf5,Qc2,Ne4,Nxe4,Qxe4,g4,Qxc2+,Kxc2,f6,gxf5,fxg5,hxg5,Re2+,Rd2,Rxd2+,Kxd2,Bxb2,Rxh5,Re8,Rh6,Re4,Rxd6,Rxf4,f6,Rxc4,Rd8+,Kf7,Rd7+,Kg6,Rg7+,Kf5,Rxb7,Bc1+,Ke2,Kxg5', 'f7,Rf4,d6,Bb2,d7', 'https://lichess.org/training/RRbj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrCsB', 'Rapid', 'HPA97', 1771, 'tjc28', 1735, 'd4,d5,c4,e5,cxd5,Qxd5,Nf3,Nc6,Nc3,Bb4,Bd2,Bxc3,Bxc3,exd4,e3,Nf6,Nxd4,Ne4,Bb5,Nxc3,Bxc6+,bxc6,bxc3,Ba6,f3,Qg5,Kf2,c5,Qa4+,Kf8,Qxa6,cxd4,cxd4,Re8,Qa3+,Kg8,Rae1,Ra8,Rc1,Re8,Rxc7,a5,Rc5,Qh6,Rxa5,g6,Ra8,Kg7,Rxe8,Rxe8,e4,Qf4,Qe3,Qd6,d5,f5,Qd4+,Kh6,h3,fxe4,fxe4', 'Qf4+,Ke2,Rxe4+,Qxe4,Qxe4+', 'https://lichess.org/training/rrCsB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrDaj', 'Rapid', 'munhumukuru', 1863, 'ChessMakesMeCry', 1966, 'd4,c6,Bf4,d5,e3,Bf5,Bd3,Bxd3,Qxd3,Nf6,Nc3,e6,Nf3,Bd6,Bxd6,Qxd6,Ne5,c5,O-O-O,cxd4,exd4,Nc6,Rde1,a6,g4,b5,g5,Nd7,Nxd7,Qxd7,f4,b4,Nb1,a5,f5,O-O-O,fxe6,fxe6,Qa6+,Kb8,Nd2,Nxd4', 'Qb6+,Qb7,Qxd4', 'https://lichess.org/training/rrDaj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RRDBF', 'Rapid', 'fisherbl', 1654, 'gimlie135', 1609, 'd4,d5,Nf3,Nf6,Ng5,Bf5,h3,e6,Bf4,c5,Nc3,Nc6,e3,cxd4,exd4,Bb4,Be5,O-O,Be2,h6,Nf3,Nxe5,Nxe5,Ne4,O-O,Nxc3,bxc3,Bxc3,Rb1,b6,Bb5,Qg5,f4,Qg3,Rf3,Qh4,Rxc3,Qxf4,Rf3,Qg5,Qe1,Rac8,Bd3,Bxd3,cxd3,Rc2,Rg3,Qf4,Rg4,Qf5,a4,h5,Rg3,Qf4,Nd7,Qxd4+,Re3,Rd8,Rb4,Qc3,Ne5', 'Rc1,Rb1,Rxe1+', 'https://lichess.org/training/RRDBF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RrdlQ', 'Rapid', 'Sobolev1971', 1764, 'Aronus', 1750, 'd4,d5,Bf4,Nf6,e3,c5,c3,Nc6,Bd3,e6,Nd2,Be7,h3,O-O,Ngf3,a6,Qe2,b5,a3,Bb7,Ne5,Nd7,O-O,Ndxe5,dxe5,f6,exf6,Bxf6,Rad1,Qe7,e4,Bxc3,bxc3,Rxf4,exd5,exd5,Qh5,Qe5,Qxh7+,Kf7,Bg6+,Kf6,g3,Qg5,Bh5,Rh4,Nf3', 'Qxh5,Qxh5,Rxh5', 'https://lichess.org/training/RrdlQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RRE5Y', 'Rapid', 'akins74', 1972, 'kilou', 2076, 'e4,b6,d4,Bb7,Nd2,e6,Bd3,c5,Ne2,cxd4,Nxd4,Nc6,N2f3,Nxd4,Nxd4,Nf6,Qe2,Be7,Bf4,a6,g4,d6,g5,Nd7,h4,e5,Nf5,exf4,Nxg7+,Kf8,Nf5,Ne5,Qh5,Kg8,Bc4,Nxc4', 'Nh6+,Kg7,Qxf7#', 'https://lichess.org/training/RRE5Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RRE7M', 'Rapid', 'skanirudh', 1805, 'aksaral', 1786, 'd4,d5,e3,Nf6,c4,e6,cxd5,exd5,Nc3,Bb4,Nf3,Ne4,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Nxc3,bxc3,Bxc3,Rb1,Ba5,Ne5,Nxe5,Qa4+,Nc6,Rxb7,Qd6,Ba3,Qe6,Rc1,Kd7,Rxc6,Qxc6,Rb5,Rab8', 'Rxd5+,Kc8,Qxc6', 'https://lichess.org/training/RRE7M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RResN', 'Rapid', 'SansAvoirVecu', 1843, 'Schachautomat', 1766, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,Nf3,c6,Ng5,e6,O-O,h6,Nge4,Nbd7,Re1,Nxe4,Rxe4,Nf6,Re1,Be7,d3,b6,a4,O-O,Bd2,Bb7,Ne4,c5,Qf3,Qc7,Nxf6+,Bxf6,Qg4,Kh8,Qh5,Qc6,Re4,Qd6,Bxh6,Bxe4', 'Bf4+,Bh7,Bxd6', 'https://lichess.org/training/RResN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrFNI', 'Classical', 'alakkadchess', 1934, 'Mangohunter', 2019, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nge2,O-O,Ng3,e5,d5,Na6,Be2,Nd7,O-O,f5,exf5,gxf5,f4,e4,Be3,Nac5,Rc1,a5,Bd4,Bxd4+,Qxd4,Qf6,Nb5,Na6,Nh5,Qxd4+,Nxd4,Ndc5,a3,a4,Rc3,Bd7,Rg3+,Kh8,Rg7,Rg8,Rxg8+,Rxg8,Nf6,Rg7,Nxd7,Rxd7,Nxf5,Rf7,g4,h5,h3,Nd3,Bxd3,exd3,Nd4,hxg4,hxg4,Nc5,f5,Rg7,Ne6,Rxg4+,Kh2,Kg8,f6,Nd7,f7+,Kh7,Kh3,Rxc4,Rf3,d2,Rd3,Rc2,f8=Q,Nxf8,Nxf8+,Kg8,Ne6,Rxb2,Kg4,c6,Kf5,cxd5,Rxd5', 'Rb5,Rxb5,d1=Q', 'https://lichess.org/training/rrFNI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrFWs', 'Blitz', 'Igor_Malyshev89', 2111, 'Xelosaa', 2189, 'c4,e5,Nc3,f5,g3,Nf6,Bg2,Bc5,e3,Nc6,Nge2,a6,O-O,d6,a3,Ba7,b4,h5,d4,e4,d5,Ne5,Qb3,h4,Nf4,hxg3,fxg3,Nfg4,Nd1,Nxh2,Rf2,Nhg4,Rf1,Qg5,c5,Qh6,Bh3,Nf3+,Kg2,g5,Rh1,gxf4,exf4,dxc5,b5,Ne1+,Kf1,Nd3,Bd2,Qg6,Ne3,Nxe3+,Bxe3,Qxg3,Ke2,Rxh3,Rxh3,Qxh3,d6,cxd6,Qg8+,Kd7,Qf7+,Kd8,Qf8+,Kc7,Qe7+,Kb6,Qxd6+,Ka5,b6,Qg2+,Kd1,Nb2+,Kc1,Nc4,Bd2+,Nxd2', 'Qxc5+,Ka4,Qb4#', 'https://lichess.org/training/rrFWs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RrGin', 'Blitz', 'WFM Schachbrettchen', 2145, 'solisjuris', 2244, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e5,Nde2,Be7,Ng3,Qc7,Bb3,O-O,O-O,b5,a3,Bb7,Bg5,Nbd7,Nf5,Rae8,Qd3,Nc5,Qg3,Nfxe4,Nxe4,Nxe4,Qg4,Bxg5,f3,h5,Qh3,Qc5+,Kh1,Nf2+,Rxf2,Qxf2,Qxh5,Bf6,Nxd6,Qb6', 'Bxf7+,Rxf7,Qxf7+', 'https://lichess.org/training/RrGin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrhMI', 'Blitz', 'mared2', 2406, 'jswift', 2355, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,c5,Nb5,O-O,c3,a6,Nd6,Bxg5,hxg5,Qxg5,Nh3,Qh6,g3,f6,f4,fxe5,dxe5,Qg6,Ng5,Nxe5,Nxh7,Qxg3+,Kd2,Rxf4,Qh5,Nf3+,Kc2,Qf2+,Kb1,Nd2+', 'Kc1,Nb3+,axb3,Qe1+,Qd1', 'https://lichess.org/training/rrhMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RRI7F', 'Rapid', 'lateraleste', 2078, 'Golovvin', 2090, 'd4,d5,Nf3,Nf6,e3,Bg4,Bd3,e6,O-O,c5,c3,Nc6,Nbd2,Bd6,h3,Bh5,Re1,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Bg6,Bg5,Qc7,Bxg6,hxg6,Qe2,cxd4,Nxd4,Nxd4,cxd4,Qa5,Bd2,Qd5,Be3,Rad8,b3,Bc7,Qc4,Qd6,g3,Bb6,Rac1,Rd7,Red1,Rfd8,Qa4,Qe7,Rc4,e5,d5,Bxe3,fxe3,Rxd5,Rxd5,Rxd5,Qxa7,Rd1+,Kg2,Qf6,Qa8+,Kh7', 'Rh4+,Qxh4,gxh4', 'https://lichess.org/training/RRI7F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RRIED', 'Rapid', 'De_can', 1652, 'ZFirzen', 1627, 'c4,e6,Nc3,Nf6,d3,Bb4,a3,Bxc3+,bxc3,O-O,Nf3,d5,cxd5,Qxd5,Bg5,Nbd7,c4,Qa5+,Bd2,Qb6,e3,c5,Be2,a6,Rb1,Qd6,e4,Ne5,Bf4', 'Nxf3+,Bxf3,Qxf4', 'https://lichess.org/training/RRIED');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrJCZ', 'Classical', 'pinkrhino_123', 1712, 'Acivi', 1675, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,a6,a3,Bc5,e5,d6,exd6,cxd6,Bc4,Nf6,h3,h6,Nf3,Bf5,O-O,O-O,b4,Ba7,Re1,Nc6,Bd3,Be6,Bb2,Re8,Na4,b5,Bxf6,Qxf6,Nc3,Qxc3,Rc1,Qb2,Re2,Qxa3,Rxc6,Qxb4,Rxd6,Qxd6,Bh7+,Kxh7,Qxd6,Bb8,Qc6,Rc8,Qxa8', 'Bh2+,Kxh2,Rxa8', 'https://lichess.org/training/rrJCZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrKTc', 'Rapid', 'meysamyousefzadeh', 1912, 'SergeySlobodenuk', 1939, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Bf4,O-O,e3,c5,cxd5,Nxd5,Bg3,cxd4,Nxd4,Nxc3,bxc3,Nc6,Bc4,Qa5,Qd2,Rd8,O-O,Nxd4,exd4,Bxd4,Rfd1,Bb6,Qf4,Bf5,Bh4,Bc7,Qf3,Qc5,Bxf7+,Kxf7,g4,Re8,gxf5,Qxf5,Qxb7,Qg4+,Bg3,Bxg3,hxg3,h5,Rd4,Qe2,Qd5+,Kg7,Rd2,Qg4,Rad1,h4,Qe5+,Kg8,Rd4,Qf3,Qe6+,Kg7,gxh4,Rab8,R4d3,Qf4,Qh3,Rh8,Rd4,Rxh4', 'Qxh4,Qxh4,Rxh4', 'https://lichess.org/training/rrKTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RrM7i', 'Rapid', 'S_Matvey_6', 2220, 'Defesafrancesa', 2291, 'Nf3,d5,d4,e6,c3,Nf6,g3,Be7,Bg2,O-O,O-O,Nbd7,Bg5,h6,Bxf6,Nxf6,Nbd2,b6,Re1,Bb7,Qc2,a5,Ne5,c5,dxc5,Bxc5,Nd3,Be7,e4,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Rxe4,Bf6,Rd1,Qc7,Nf4,Rfd8,Rde1,Rd6,Nh5,Be7,Qe2,Bf8,Qg4,f5,Qg6,fxe4', 'Nf6+,Kh8,Qh7#', 'https://lichess.org/training/RrM7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RRMKG', 'Rapid', 'Light00007', 2287, 'AyushRay123', 2320, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Nf6,d3,Be7,O-O,O-O,Re1,Re8,Nbd2,Bf8,Nf1,Bd7,Ng3,a6,Ba4,Ne7,Bc2,Ng6,Bg5,h6,Be3,Ng4,Bd2,Nh4,Nxh4,Qxh4,h3,Nxf2,Kxf2,Re6,Re3,Rg6,Qf3,Rf6,Kg1,Rxf3,Rxf3,Re8,Raf1,Be6,Bb3,Bxb3,axb3,d5,Nf5,Qd8,Rg3,dxe4,Nxh6+,Kh7,Nxf7,Qd5,Rf5,exd3', 'Rh5+,Kg8,Nh6+', 'https://lichess.org/training/RRMKG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RRn6l', 'Rapid', 'Moinsen', 1724, 'ChessWithPanda', 1745, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d3,d6,e4,Be6,Be3,Qd7,Nc3,Bh3,Ng5,Bxg2,Kxg2,h6,Nf3,Ng4,Qd2,Kh7,h3,Nxe3+,Qxe3,f5,exf5,Rxf5,Nh4,Qc6+,Kh2,Re5,Qf4,Nd7,Qg4,Rg5,Qe6,Ne5,Rae1,Re8,Ne4,Rh5,d4,Rxh4,dxe5', 'Rxe4,Rxe4,Qxe4', 'https://lichess.org/training/RRn6l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rRNe5', 'Rapid', 'tanso', 1647, 'Djuffin', 1650, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,Nf6,Bd2,c6,Nf3,Bg4,Be2,e6,O-O,Bd6,Ne4,Qd8,Nxf6+,Qxf6,Bc3,Qh6,h3,Bf5,d4,Be4,Bd3,Bxd3,Qxd3,Nd7,Rfe1,O-O,Bd2,Qh5,c4,f5,Ne5,Nxe5,dxe5,Bc5,b4,Rad8,Qc3', 'Bd4,Qxd4,Rxd4', 'https://lichess.org/training/rRNe5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrP0U', 'Rapid', 'xeltamvp', 1604, 'VTumane', 1735, 'e4,c5,Bc4,e6,Nf3,Nc6,a3,d5,exd5,exd5,Ba2,Nf6,O-O,Be7,d4,c4,Ne5,O-O,b3,b5,a4,Nxe5,dxe5,cxb3,cxb3,Ng4,Nd2,Nxe5,Nf3,Nxf3+,Qxf3,Bb7,Bb2,Qc7,Rac1,Qd6,Rfd1,Rab8,Qh5,Rfc8,Be5,Qa3,Bb1,Rxc1', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/rrP0U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rRpob', 'Classical', 'nikolicmomir', 1897, 'vinccz', 1653, 'd4,d5,c4,c6,Bf4,dxc4,e3,b5,a4,Qa5+,Qd2,Qxd2+,Nxd2,Bb7,Ngf3,e6,Be2,Bb4,O-O,Nf6,Ne5,O-O,Bf3,Bxd2,axb5,Nd5,bxc6,Nxc6,Nxc4,Nxf4,Nxd2,Nd3,b4,Ndxb4,Rab1,Rab8,Nc4,Ba6,Rfc1,Nd3,Rxb8,Nxc1,Rxf8+,Kxf8,Nd2,Nb4,Bd1,Ne2+,Kh1,Nc3,Bb3,Nd3,f3,Ne2,g3,Ke7,Ne4,Bb7,Kg2,Nec1,Bc4,Ne1+,Kf2,Ned3+,Kg2,Bxe4,fxe4,Ne1+,Kf2,Nc2,h4,a5,Bb5,Kd6,e5+,Kd5,Be8,f6,Ba4,fxe5,Bxc2,exd4,exd4,Kxd4,Bxh7,a4,Bg8,Kd5,Bh7,Kd4,Ke1,Kc3,Kd1,Kb2,Bg8,e5,g4,e4,g5,e3,h5,e2+,Ke1,a3', 'h6,Kc3,h7', 'https://lichess.org/training/rRpob');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rrq3p', 'Rapid', 'Syl2007', 1884, 'iguana_hijau', 1872, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Nc6,O-O,Bd7,d4,a6,Bxc6,bxc6,c3,Ne7,Bg5,h6,Bh4,g5,Bg3,Nf5,Nbd2,Nxg3,fxg3,g4,Nh4,h5,Rf2,Qb6,b3,cxd4,Qf1,dxc3,Nb1,c2,Nc3,Bc5,Na4,Bxf2+,Kh1,Qd4,Rc1,Qd2,h3,gxh3,gxh3,Bxg3,Ng2,Rg8,Nb6,Rb8,Nxd7,Kxd7,Qxf7+,Kc8,Qxg8+,Kb7,Qf7+,Ka8,Qf1,Rg8,Qxa6+,Kb8,Qb6+,Kc8,Qxc6+,Kd8,Qd6+,Ke8', 'Qxe6+,Kd8,Qxg8+', 'https://lichess.org/training/Rrq3p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rRQ8j', 'Rapid', 'takemyqueen', 1757, 'guernsej', 1711, 'e4,c5,Nf3,Nc6,Be2,b6,O-O,Bb7,d3,Nd4,Nxd4,cxd4,Nd2,e5,f4,d6,f5,Nf6,h3,d5,Bf3,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,dxe4,Bc5,Qd3,O-O,g3,f6,Bd2,a5,c3,Qe7,cxd4,Bxd4+,Kg2,Bxb2', 'Qb3+,Kh8,Qxb2', 'https://lichess.org/training/rRQ8j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrrjS', 'Classical', 'gexx', 1601, 'MITa_m', 1667, 'd4,f5,Nc3,g6,e4,fxe4,Qe2,d5,Bf4,Nf6,O-O-O,Bg7,f3,exf3,Nxf3,O-O,h3,Ne4,Be5,Bxe5,dxe5,Ng3,Qd3,Nxh1,Nxd5,Nf2', 'Nf6+,Kg7,Qxd8,Rxd8,Rxd8,Nc6,Rg8+', 'https://lichess.org/training/rrrjS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RRRld', 'Rapid', 'Luzhin29', 2257, 'arek1985', 2088, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,Bc4,O-O,Bb3,a6,f3,d6,Qd2,Nxd4,Bxd4,Be6,h4,Rc8,h5,Nxh5,Bxg7,Kxg7,g4,Nf6,Qh6+,Kg8,O-O-O,Bxb3,axb3,Rxc3,bxc3,Qa5,Kb2,Rc8,Rd3,Qe5,Qd2,b5,g5,Nh5,Rd5,Qg7,b4,Rc4,Kb3,Qf8,Rd4,Rc6,f4,a5,f5,axb4,cxb4,Qa8,Qc1,Qa4+,Kb2,Ng3,Re1,gxf5,exf5,Nxf5,Rf4,Rc4,Rxc4,bxc4,Kc3,d5,Qa1,Qc6,Qa5,d4+,Kb2,c3+,Kb1,Ne3', 'Qd8+,Kg7,Qxd4+', 'https://lichess.org/training/RRRld');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rRrzB', 'Classical', 'spes14', 1639, 'TimeJounin', 1662, 'e4,c5,f4,d6,Nc3,Nc6,Nh3,Nf6,Bc4,Bg4,Be2,Nd4,Bxg4,Nxg4,Qxg4,Nxc2+,Kd1,Nxa1,b3,g6,Bb2,Qa5,Bxa1,Bg7,Kc2,Bxc3,Bxc3,Qxa2+,Bb2,a5', 'Ra1,Qxa1,Bxa1', 'https://lichess.org/training/rRrzB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RrTzi', 'Blitz', 'Tik0', 1520, 'AnaIarajuli', 1511, 'e4,e5,d4,exd4,Qxd4,c5,Qa4,a6,Be3,b5,Qa3,d6,Bxb5+,Nd7,Bxd7+,Bxd7,Nc3,Bb5,Nxb5,axb5,Qb3,Qa5+,Bd2,b4,Nf3,Qb5,O-O-O,Nf6,Ng5,Ra7,Be3,Be7,Qxf7+,Kd8,Qxg7,Rg8,Ne6+,Kd7,Qf7,Rxa2,Rxd6+,Kxd6,Rd1+,Ke5,Qxe7,Ra1+,Kd2,Rxd1+,Kxd1', 'Qf1+,Kd2,Nxe4#', 'https://lichess.org/training/RrTzi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RrvFi', 'Blitz', 'yy_maths', 1560, 'birukovfa', 1525, 'c4,d5,cxd5,Qxd5,Nc3,Qa5,Nf3,Bf5,d3,Nc6,Bd2,O-O-O,e4,Bg6,Be2,e6,O-O,Nf6,Qb3,Nd4,Nxd4,Rxd4,Nd5,Qxd2,Nxf6,Qxe2,Qc3,Rxd3,Qe5,Bd6,Qg5,gxf6,Qxf6,Rg8,Rfe1,Qh5,g3,Be5,Qe7,Qh3,Rad1,Rxd1,Rxd1,Bxe4', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/RrvFi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rRvrh', 'Rapid', 'ramzay', 1711, 'cuellopavo', 1682, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bb4,d3,d6,h3,Bd7,Bd2,O-O,O-O,Re8,Bc4,h6,Nd5,Nxd5,Bxd5,Bxd2,Qxd2,Be6,Bb3,Bxb3,axb3,a5,c3,b6,Nh2,Qf6,f4,exf4,Rxf4,Qg5,Raf1,Ne5,Qe2,Re7,Nf3,Nxf3+,Qxf3,Qg6,Rg4,Qh7,Rf4,Qg6,Qf2,Rae8,c4,c6,Qxb6,d5,cxd5,cxd5,Qxa5,dxe4,dxe4,Rxe4,Rxe4,Rxe4,Qd5,Re2,b4,Rxb2,b5,Qb6+,Kh2,Qe6,Qd8+,Kh7,Qd3+,Kg8,Rb1,Qe5+,Kh1,Rxb1+', 'Qxb1,Kf8,b6', 'https://lichess.org/training/rRvrh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrxJe', 'Blitz', 'Romaoplays', 1609, 'CaaptainJackSparrow', 1546, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,d6,Nf3,Nf6,Bg5,h6,Bxf6,exf6,O-O,Bg4,h3,Bh5,Ne5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/rrxJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RrXjn', 'Rapid', 'wernier', 1866, 'jairrobledo', 1869, 'e4,e5,Bc4,Nc6,Nc3,Nf6,f4,exf4,Nf3,Bc5,d4,Bb6,Bxf4,O-O,Qd3,d6,O-O-O,Bg4,Bg5,Na5,Rdf1,Nxc4,Qxc4,h6,Bh4,Bxf3,Rxf3,g5,Bg3,Qe7,e5,dxe5,Bxe5,Nd7,Rhf1,Nxe5,dxe5,Rad8,Nd5,Qxe5,Nf6+,Kg7,Nh5+,Kg6,Rf6+,Kxh5', 'g4+,Kh4,Rxh6#', 'https://lichess.org/training/RrXjn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RryC4', 'Rapid', 'RedaRose', 1794, 'Osoruso', 2022, 'e4,d6,Nf3,e5,Bc4,Be6,Bxe6,fxe6,d3,Nf6,O-O,Be7,Nc3,O-O,Be3,c6,Qd2,Na6,a3,Nc7,Rad1,Ng4,d4,Nxe3,fxe3,exd4,exd4,Qe8,Qd3,Qg6,Ne2,d5,Ng3,Rf7,Qb3,Rb8,Ne5,Rxf1+,Rxf1,Qh6,exd5,Nxd5,Kh1,Qe3,Qa4,Bd6,Qxa7,Bxe5,dxe5,Qxe5,Qf2,Qc7,c4,Nf6,Qe3,Qe7,b4,e5,Nf5,Qc7,Rf3,e4,Rg3,g6,Qg5,Rd8,h3,Rd1+,Kh2,Qe5', 'Nh6+,Kf8,Qxe5', 'https://lichess.org/training/RryC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rrzLN', 'Rapid', 'ajeet121', 1791, 'female_supremacy', 1786, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Bf5,Nf3,e6,Nd4,Bg6,d3,a6,c4,Nf6,cxd5,Nxd5,Bxd5,Qxd5,Be3,Qxg2,Qf3,Qxf3,Nxf3,Bxd3,Nc3,Bb4,O-O-O,Bg6,Na4,Nc6,Nb6,Rb8,Bf4,Rd8,Rxd8+,Kxd8,Rd1+,Ke7,Rd7+,Kf6,Rxb7,Rd8', 'Bg5+,Kf5,Bxd8', 'https://lichess.org/training/rrzLN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RS0IC', 'Bullet', 'NM Unununium', 2119, 'ALRO', 2008, 'e4,e5,f4,d5,exd5,exf4,Be2,Nf6,c4,Ne4,Nf3,Bg4,O-O,Bc5+,d4,Be7,Bxf4,O-O,Nbd2,Nd7,Nxe4,Nf6,Nxf6+,Bxf6,Be5,Bxe5,Nxe5,Bxe2,Qxe2,f6,Nf3,c6,dxc6,bxc6,Rfe1,Qb6,Kh1,Rad8,Rad1,Qa6,b3,Qa5,Qd2,Qh5,d5,cxd5,cxd5,Rd6,Re4,Rfd8,Rd4,g5,Qd3,g4,Nd2,g3,Qxg3+,Kh8,Nc4,Rxd5,Rxd5', 'Qxd1+,Rxd1,Rxd1+,Qe1,Rxe1#', 'https://lichess.org/training/RS0IC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RS964', 'Rapid', 'egoeimia9', 1712, 'noblespud', 1645, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,d5,Nb8,a3,Nf6,Nc3,g6,h3,Bg7,Nf3,O-O,Bc4,Nbd7,Be3,a6,O-O,Nh5,Bd4,Nhf6,Bb3,e5,Be3,b5,Bc2,Nb6,b3,Bd7,Rc1,a5,Ne2,b4,a4,Rc8,Bd3,Ne8,Rc2,f5,exf5,Bxf5,Rxc8,Nxc8,Bb5,e4,Nfd4,Nb6,Ne6,Bxe6,dxe6,Nc8,Bc4,Qe7,Bd4,Bh6,Ng3,Nf6,Bxf6,Qxf6,Nxe4,Qe5,Qd5,Qxd5,Bxd5,Ne7,Bc4', 'd5,Bxd5,Nxd5', 'https://lichess.org/training/RS964');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RS9QD', 'Rapid', 'Pavel_Fantasma', 1637, 'tsidlinger', 1631, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,Nc3,d6,Qf3,Bg4,Qg3,h5,h3,Bd7,f4,exf4,Bxf4,Ne5,Bxe5,dxe5,O-O-O,Bd4,Nd5,Nxd5,Bxd5,Ba4,Qf3,Qxg5+,Kb1,c6,h4,Qg6,Bb3,b5,Rdf1,c5,Bd5,c4,Bxa8,c3,b3,Qd6,Kc1,Qc5,Re1,Rxa8,bxa4,bxa4,Ref1,f6,Qxh5,Be3+,Kd1,Bd2,Rh3,Qa3,Ke2,Qxa2,Rg3,a5,Rxf6,Ra7,Qe8+,Kh7,Rf8,g6,Rh8+,Kg7,Qg8+', 'Qxg8,Rxg8+,Kxg8', 'https://lichess.org/training/RS9QD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RSban', 'Rapid', 'Dragi92', 1752, 'Doppelbauer1', 1928, 'd4,d5,c4,e6,cxd5,exd5,Nf3,Nf6,Bg5,Be7,Nc3,O-O,e3,Nc6,a3,Bg4,Be2,Qd7,h3,Bh5,O-O,Rfe8,Bb5,Rad8,Rc1,a6,Be2,Ne4,Bxe7,Qxe7,Nd2,Bxe2,Nxe2,Rd6,Nf3,Ng5,Nf4,Qf6,Nxg5,Qxg5,Qb3,Na5,Qa4,Nc6,Qb3,Nxd4,exd4,Qxf4,Rxc7,b5,Qb4,h6,Rd1,Rf6,Rc2,Qe4,Qc3,Rg6,f3,Qf5,Kh1,Ree6,Qd3', 'Re1+,Rxe1,Qxd3', 'https://lichess.org/training/RSban');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RSBgN', 'Rapid', 'samuellau11', 2083, 'turm64', 2018, 'e4,e6,d4,d5,exd5,exd5,c4,c6,Nc3,Nf6,Nf3,Bg4,h3,Bh5,g4,Bg6,Qb3,Qc7,cxd5,Nxd5,Nxd5,cxd5,Bb5+,Nc6,Qxd5,Bb4+,Bd2,Bxd2+,Nxd2,O-O,O-O,Rad8,Qc5,Qf4,Nb3,Nxd4,Nxd4,Rxd4,Qxa7,Rb4,Qc5,Rxb2,Rae1,Rxa2', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/RSBgN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RsBIZ', 'Blitz', 'Kikuxtah', 1968, 'rojo25', 1584, 'e4,e5,f4,Nc6,Nf3,exf4,Bc4,h6,d4,Qf6,Nc3,Nge7,Nd5,Nxd5,exd5,Na5,Bd3,Bb4+,c3,Bd6,O-O,b6,b4,Nb7,Bc2,g5,Qe2+,Be7,Ne5,Nd6,g3,Qg7,Kh1,Bb7,Bb3,O-O-O,gxf4,f6,Nc4,Bxd5+,Rf3,g4,Nxd6+,Bxd6,Bxd5,gxf3', 'Qa6+,Kb8,Qb7#', 'https://lichess.org/training/RsBIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RScfM', 'Classical', 'Abs53', 1975, 'KaushikB', 1896, 'e4,c5,Nf3,d6,Bc4,h6,O-O,Nf6,e5,Nfd7,e6,fxe6,Bxe6,Nf6,Qe2,a6,Re1,Nc6,c3,Qc7,d4,cxd4,cxd4,Bd7,d5,Nb4,Bxd7+,Qxd7,Nc3,Nbxd5,Nd4,e5,Nxd5,Nxd5,Qh5+,Kd8,Bg5+,Kc8,Rac1+,Kb8,Nb3,Qe6,Nd4,Qg8,Bd2,Nf6,Qf5,exd4,Ba5,Qd5,Qc8+,Ka7,Bb6+,Kxb6,Qxa8,Rg8,a4,Be7,Rc8,Rxc8,Qxc8,Qf7,a5+,Ka7,Qc7,Nd5,Qd7,Qf6,b4,d3,b5,d2,b6+,Nxb6', 'axb6+,Kxb6,Rb1+', 'https://lichess.org/training/RScfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rSCKj', 'Rapid', 'Iron4121', 1782, 'Noerk', 1745, 'e4,e5,Nc3,Nc6,Bc4,d6,Nf3,Bd7,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,O-O-O,O-O,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/rSCKj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RSCQq', 'Classical', 'Gojk0_Mitic', 1602, 'Parenek2016', 1704, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,a6,a3,b5,Ba2,Bb7,Re1,Bd6,c3,Nf6,e5,Nxe5,Nxe5,Qc7,d4,g6,Bh6,Nh5,Nd2,f6,Ne4,fxe5,Nxd6+,Qxd6,dxe5,Qc6,f3,Rg8,Bb1,O-O-O,Be4,Qb6,Bxb7+,Qxb7,Bg5,Rdf8,Be7,Rf7,Bxc5,Nf4,a4,Rf5,Re4,bxa4,Raxa4,Qxb2,Rxf4,Rxf4,Rxf4,Qxc3,Bd6,Qe3+,Kh1,Qxf4,Qc2+,Kd8', 'Qc7+,Ke8,Qc8+,Kf7,Qxd7#', 'https://lichess.org/training/RSCQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rSEuC', 'Classical', 'hazar51', 1718, 'Turrinvicam', 1616, 'f4,d5,Nf3,Nc6,e3,a6,d4,Nf6,Nc3,Bg4,Be2,Bf5,O-O,e6,Ne5,Bd6,Bd3,Bxd3,Qxd3,Ne7,Bd2,c5,e4,cxd4,Qxd4,Rc8,exd5', 'Bc5,Qxc5,Rxc5', 'https://lichess.org/training/rSEuC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RSFBe', 'Classical', 'ykt53', 1871, 'AlirezaNasa', 1943, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Nf6,e5,Nd5,a3,Nc6,Nf3,Be7,O-O,f6,Bb5,O-O,Bxc6,bxc6,Qc2,Bb7,Nc3,c5,Be3,cxd4,Bxd4,c5,Nxd5,Qxd5,exf6,Bxf6,Bxc5,Rac8,Rac1,Be7,b4,Rxf3,Rcd1,Qg5,Qc4,Bxc5,Qxe6+,Kh8,bxc5,Rf6', 'Qxc8+,Bxc8,Rd8+,Rf8,Rxf8#', 'https://lichess.org/training/RSFBe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rsfkF', 'Rapid', 'Robyarchitetto', 1606, 'tirald', 1719, 'e4,b6,d4,Bb7,Nc3,g6,Be3,Bg7,Nf3,e6,Bd3,Ne7,O-O,O-O,Ne2,d6,c3,Nd7,Ng3,e5,d5,c6,c4,cxd5,cxd5,Nc5,Bb5,f5,exf5,Nxf5,Nxf5,Rxf5,Nh4,Rf7,g3,Qf8,Bc4,Ne4,Qc2,Nf6,Nxg6,hxg6,Qxg6,Bxd5,Bxd5,Nxd5,Rad1,Nxe3,fxe3,Rxf1+,Rxf1,Qe7,Rd1,Rd8,Qe4,Kf8,Rf1+,Ke8', 'Qg6+,Kd7,Rf7', 'https://lichess.org/training/rsfkF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rSH45', 'Rapid', 'alasdairreid', 1878, 'jirica', 1921, 'd4,g6,e4,Bg7,c4,Nf6,Nc3,c6,Nf3,d6,h3,O-O,Bd3,Na6,a3,Bd7,O-O,Qc8,e5,Ne8,Re1,Nac7,Bf4,Ne6,Bg3,dxe5,Nxe5,Nxd4,Bxg6,fxg6,Qxd4,Bf5,Qe3,Nf6,Rad1,Rd8,Rxd8+,Qxd8,Rd1,Qa5,Bf4,Nh5,Bh6,Bxe5,g4,Bf6,gxh5,gxh5,Qg3+,Kf7,Kf1,Qc5,Qf4,Rg8,Ne4,Bxe4,Qxe4,b5,cxb5,Qxb5+,Ke1,Qxb2,Bd2,Qxa3,Qc4+,Kf8', 'Bh6+,Rg7,Rd8#', 'https://lichess.org/training/rSH45');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rshQV', 'Blitz', 'Solal35', 1842, 'Rv2618', 1589, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Bd3,Qb6,O-O,f6,Qe2,cxd4,Re1,Bb4,Rf1,Qc7,a3,Ba5,b4,Bb6,Re1,fxe5,Nxe5,Nxe5,Qxe5,Nf6,Bb2,O-O,Nd2,Ng4,Bxh7+,Kxh7,Qh5+,Nh6,g4,d3,g5,Bxf2+,Kh1,Rf5,Rf1,Qf4,Qe8,Rf8,Qh5,Qxd2,Rad1,Qxc2,Bxg7,Kxg7,gxh6+,Kh7,Rg1,Qe2', 'Qg6+,Kh8,Qg7#', 'https://lichess.org/training/rshQV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RsHYv', 'Classical', 'michael12345', 1706, 'ahmedalieldeep', 1682, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,Nc3,Nf6,d3,Bb7,Bg5,h6,Bh4,g5,Bg3,Qe7,Bd5,O-O-O,Bxc6,Bxc6,Nxe5,Bb7,O-O,h5,Nf3,d6,Nxg5,h4,Bf4,Rdg8,Nf3,Qe6,Re1,Ng4,d4,Bb6,Nd5,Ba7,c3,h3,g3,Bxd5,exd5,Qxd5,Qe2,c5,dxc5,Bxc5,Rad1,Qf5,Nd4,Qd5,Nf3,Bxf2+,Kh1,Qc6,Rxd6,Qb7,Red1,Bb6,Rf1,Re8,Qc2,Bc7,Qf5+,Kb8,Qxg4,Bxd6,Bxd6+,Ka8,Qf5,Re6,Bb4,Rhh6,Qg5', 'Qxf3+,Rxf3,Re1+,Rf1,Rxf1#', 'https://lichess.org/training/RsHYv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rSiBl', 'Rapid', 'gilzzza', 2039, 'tetatina', 1970, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,a6,Bxc6+,bxc6,d4,Nf6,dxe5,Nxe4,Re1,d5,Nbd2,Ng5,Nd4,c5,e6,Nxe6,Nxe6,Bxe6,Rxe6+,fxe6,Qh5+,g6', 'Qe5,Qe7,Qxh8,Qg7,Qxg7', 'https://lichess.org/training/rSiBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RsIVx', 'Rapid', 'samsonengert', 1858, 'MrPutinsLeftHand', 1782, 'e4,e5,d4,Nc6,d5,Nb8,Nf3,d6,c4,f5,Bd3,f4,O-O,Be7,g3,Bg5,Nxg5,Qxg5,Be2,Bh3,Re1,Nh6,Nd2,O-O,Nf3,Qf6,Kh1,fxg3,fxg3,Ng4,Qb3,Nf2+,Kg1,Nxe4,Qe3,Qg6,Bd3,Bf5,Bxe4,Bxe4,Qxe4,Qxe4,Rxe4,Rxf3,Bg5,Nd7,Kg2,Raf8,Be3,Nc5,Bxc5,dxc5,Rxe5,b6,Re7,Rf2+,Kh3,Rxb2,Rxc7,Rc2,d6,Rxc4,Rd1,Rd4', 'Rxd4,cxd4,d7,Rd8,Rc8,Kf7,Rxd8', 'https://lichess.org/training/RsIVx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rSjfy', 'Rapid', 'Michi5568', 1721, 'redonn', 1998, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,Nc3,Nd7,Be2,a6,h3,Bh5,Ng1,Bg6,Bd3,c5,h4,cxd4,Nce2,Nxe5,Nxd4,Bxd3,cxd3,Bc5,Be3,Qa5+,Kf1,Ne7,a3,Bxd4,Bxd4,N7c6,Bc3,Qb5,Rh3,d4,Bb4,Nxb4,axb4,Qxb4,Qe2,Qd6,Ra5,b5,Nf3,Ng6,Qe4,O-O,Ra1,Rfd8,h5,Ne7,Ng5,f5,Qf3,Nd5,Rh4,Nf6,Re1,Re8,Nxe6,Rac8,Qxf5,Rc6,Nxd4,Rxe1+,Kxe1,Rc1+,Ke2,Qb4,Qe6+,Kh8,Nf5', 'Qe1+,Kf3,Qxe6', 'https://lichess.org/training/rSjfy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rsjrg', 'Rapid', 'LuckiOl', 1780, 'MishelShkolin', 1650, 'd4,b6,c4,f5,Nc3,Nf6,Nf3,e6,g3,Bb7,Bg2,Bb4,O-O,Bxc3,bxc3,O-O,Ne5,Bxg2,Kxg2,d6,Nf3,Qe8,Bf4,Nc6,Kg1,e5,Bc1,e4,Nh4,Qh5,Ng2,Na5,Nf4,Qf7,e3,Nxc4,Qb3,c6,Rb1,g5,Ng2,b5,a4,Rab8,h3,bxa4,Qxb8,Rxb8,Rxb8+,Kg7,Rb1,Nd5,Ra1,Nxc3,Kh1,Ne2,Rxa4,Nxc1,Rxc1,d5,Ra2,a5,Ne1,Qh5,Kg2,g4,h4,Qg6,Rac2,Kh6,Ra2,f4,exf4,c5,dxc5,Qc6,Nc2,Qxc5,Raa1,e3,Nxe3,Nxe3+,fxe3,Qxe3,Re1,Qf3+,Kh2,Qf2+,Kh1,Qxg3,Re6+,Kg7,Re7+,Kg6,Re6+,Kf7,Rh6,Qf3+,Kg1,Qe3+,Kh1,Qf3+,Kg1,Qxf4', 'Rf1,Qxf1+,Kxf1', 'https://lichess.org/training/rsjrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rsKp3', 'Rapid', 'sasandinarvandi', 1662, 'TURMOlL', 1635, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,Nf3,e6,e4,Bc5,d4,Bb6,Bf4,Nc6,Bb5,Ne7,e5,O-O,Qd3,Nxd4,Nxd4,Bxd4,O-O-O,c6,Ba4,Bb6,Qg3,Nf5', 'Rxd8,Nxg3,Rxf8+', 'https://lichess.org/training/rsKp3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rSkpC', 'Classical', 'maxcot13', 1944, 'Ribadeo', 1791, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,a3,h6,Nc3,c5,Bd2,cxd4,Nxd4,Bg6,Bb5+,Nd7,O-O,Bc5,Be3,Bxd4,Bxd4,a6,Ba4,Ne7,Ne2,b5,Bb3,Nc6,Nf4,Qg5,Nxg6,Qxg6,c3,O-O,Bc2,Qg5,Be3,Qxe5,Qd3,Nf6,Rae1,Qh5,f4,Ne4,Rf3,f5,Rh3,Qf7,Qd1,Na5,Bd4,Nc4,Rxe4,dxe4,Rg3,g6,Qh5,Kh7', 'Qxh6+,Kxh6,Rh3#', 'https://lichess.org/training/rSkpC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rsl9s', 'Rapid', 'stonedparasite', 1643, 'atijazz', 1966, 'd4,Nf6,c4,g6,Nc3,d5,b3,Bg7,Bb2,c5,e3,O-O,cxd5,Nxd5,Bc4,Nxc3,Bxc3,cxd4,Bxd4,Qa5+,Kf1,e5,Bb2,Rd8,Qf3,Qd2,Qxf7+,Kh8,Nf3,Qxb2,Re1,e4,Ng5,Rf8', 'Qg8+,Rxg8,Nf7#', 'https://lichess.org/training/rsl9s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RslZK', 'Classical', 'EVSM95', 1671, 'Elson2019', 1808, 'e4,c5,Nc3,a6,Bc4,d6,Qf3,Nf6,Nh3,Bg4,Qg3,b5,Bd5,Nxd5,Nxd5,Be6,O-O,Nc6,c3,g6,d3,Bg7,Ng5,Be5,f4,Bg7,Bd2,b4,Qf3,a5,Nxe6,fxe6,Ne3,O-O,Qh3,Na7,Ng4,Nb5,Rac1,a4,f5,a3,b3,Nxc3,Rc2,exf5,exf5,Rxf5,Rxf5,gxf5,Nh6+,Bxh6,Bxh6,Qc8,Qg3+,Kf7,Qg7+,Ke8,Bg5,Nd5', 'Qg8+,Kd7,Qxd5', 'https://lichess.org/training/RslZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rSMrw', 'Blitz', 'Shipoli1', 1977, 'PHOENIX-74', 2006, 'e4,e5,Bc4,Bc5,Nf3,Nc6,O-O,d6,h3,Nf6,d3,a6,c3,Be6,Bb3,O-O,Be3,Bxe3,fxe3,a5,Nbd2,a4,Bc2,b5,a3,Na5,Qe2,c5,Rfe1,Re8,Nf1,Qd7,Ng3,Rac8,Rad1,Nc6,d4,exd4,exd4,cxd4,cxd4,d5,e5,Ne4,Bxe4,dxe4,Qxe4,Bd5,Qf4,Bb3,Rc1,Na5,Rxc8,Rxc8,Ne4,Nc4,Nc5,Rxc5,dxc5,Nxb2,Nd4,Nd3,Qe4,Nxe1', 'Qa8+,Qc8,Qxc8#', 'https://lichess.org/training/rSMrw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rSnJw', 'Rapid', 'MH412', 2008, 'mikeraya', 2173, 'e4,c5,Nc3,d6,f4,e6,Nf3,Nc6,Bb5,a6,Bxc6+,bxc6,d4,cxd4,Qxd4,Qc7,e5,dxe5,fxe5,Nh6,Bxh6,gxh6,O-O,c5,Qf4,Bg7,Ne4,O-O,Nf6+,Kh8,Qe4,Bxf6,Qxa8,Bg7,Qe4,Bb7,Qf4,Rg8,Rae1,f6,c4,fxe5,Qe3', 'e4,Kh1,exf3', 'https://lichess.org/training/rSnJw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rsNlK', 'Rapid', 'Janos_Karoly', 1823, 'DelusionalPawn', 1732, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Bf4,a6,Nf3,Nc6,e3,e6,Rc1,Bd6,Bg3,Bxg3,hxg3,Bd7,a3,b5,Bd3,Qb6,b4,Rc8,O-O,Ne7,Ne5,Ng6,Nxg6,hxg6,Qf3,Ke7,Ne2,Rxc1,Rxc1,g5,Rc5,Qd6,Nc1,g4,Qe2,e5,dxe5,Qxe5,Bc2,Qh5,f3,Qh1+,Kf2,gxf3,Qxf3,Ng4+,Ke2,Ne5,Qf1,Bg4+,Kf2,Qh5,Nd3,Qf5+,Ke1,Nxd3+,Bxd3,Qe5,Qf4,Qa1+,Kf2,Qb2+,Rc2,Qf6,Rc7+,Ke6', 'Rc6+,Ke7,Rxf6', 'https://lichess.org/training/rsNlK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rsOiD', 'Rapid', 'wacy', 1994, 'SimonSuperHans', 1773, 'd4,d5,Nc3,e6,h3,Nc6,Nf3,g6,a3,Bg7,Bf4,a6,e3,Nf6,Be2,O-O,O-O,Nh5,Bh2,b5,Nd2,Nf6,Nb3,b4,axb4,Nxb4,Nc5,Nd7,Nxd7,Bxd7,Na4,Bxa4,Rxa4,Nc6,Rxa6,Rxa6,Bxa6,Nb4,Bb5,Qb8,Ba4,Qa7,Bb3,c5,c3,Na6,Qa1,c4,Bc2,Qb6,Rb1,Ra8,b4,Qd8,Qb2,Qb6,Ra1,Bf8,Be5,Ra7,Kh1,Bd6,Bxd6,Qxd6,b5,Rb7,Qa2,Nc7,Ba4,Qb6,Rb1,Qa5,Qc2,Nxb5,Bxb5,Rxb5,Rxb5,Qxb5,Qc1,Qb3,Kh2,Kg7,g3,Kf6,Kg2,h5,h4,Kf5,f3,f6', 'e4+,dxe4,Qf4#', 'https://lichess.org/training/rsOiD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RspCG', 'Blitz', 'georgidobrev', 1824, 'pawnbroker222', 1825, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,Be7,e3,O-O,Bd3,b6,O-O,Bb7,Ne5,d6,Nf3,Qe8,Ng5,Bd8,d5,exd5,cxd5,Nxd5,Bc4,Bxg5', 'Bxd5+,Bxd5,Qxd5+,Qf7,Qxa8', 'https://lichess.org/training/RspCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rsQlt', 'Rapid', 'robson10200', 1688, 'aleksandrvitkovskyi', 1678, 'e4,e5,Bc4,Nc6,a3,Nf6,d3,a6,Be3,b5,Ba2,a5,Nf3,Be7,O-O,O-O,h3,d6,Nc3,b4,axb4,axb4,Nd5,h6,Nxf6+,Bxf6,Bxf7+,Rxf7,Rxa8,Ne7,Qd2,Rf8,Qxb4,Qd7,Qa4,Qd8,Qb3+,Kh7,Rfa1,Qd7,Qa4,Qe6,Qb3,Qd7,Qc3,d5,Qe1,dxe4,dxe4,Rf7,Bc5,Bb7,R8a7,Bxe4,Bxe7,Bxf3,gxf3,Bxe7,Qe4+,g6,Qxe5,Bd6,Qd5', 'Bh2+,Kxh2,Qxd5', 'https://lichess.org/training/rsQlt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RsqMy', 'Rapid', 'eddy_mahendra', 2040, 'Kotomtom02', 2081, 'e4,c5,c3,e6,g3,d5,e5,Nc6,Qe2,Qc7,f4,b6,Bg2,Bb7,d3,d4,Nh3,dxc3,bxc3,Be7,O-O,Nh6,Be3,O-O,Nd2,f5,Kh1,Ng4,Bg1,Rfd8,Nc4,b5,Ne3,h5,Nf2,b4,Nexg4,hxg4,Nxg4,fxg4,Qxg4,Qd7,cxb4,cxb4,Rad1,Rf8,h3,Rad8,d4,a5,Kh2,a4,d5,exd5', 'Bxd5+,Qxd5,Rxd5', 'https://lichess.org/training/RsqMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rsREd', 'Blitz', 'Pepmontra', 1936, 'mpetrashev', 1989, 'd4,d5,c4,Nf6,Nf3,g6,Nc3,Bg7,cxd5,Nxd5,e4,Nxc3,bxc3,O-O,Bc4,c5,Be3,Bg4,O-O,Nc6,h3,Bxf3,Qxf3,cxd4,cxd4,Nxd4,Bxd4,Qxd4,Bd5,Rab8,Rac1,e6,Bb3,Rfc8,Rcd1,Qe5,Rd7,Rc7', 'Qxf7+,Kh8,Rxc7', 'https://lichess.org/training/rsREd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rsRq2', 'Classical', 'kenybigfoot', 1696, 'KlodiM', 1764, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bb4,O-O,O-O,d4,Na5,a3,Bxc3,bxc3,Nxc4,Qd3,b5,dxe5,Ne8,Bf4,f6', 'Qd5+,Kh8,Qxa8', 'https://lichess.org/training/rsRq2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RSRzj', 'Rapid', 'maestrojoker', 2075, 'bookna', 2084, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,Nd4,Nxd4,cxd4,Ne2,e6,O-O,Qb6,Bd3,Ne7,Kh1,d5,e5,g5,g3,g4,c3,h5,Qa4+,Bd7,Qxd4,Qc7,b3,h4,Kg2,Nc6,Qf2,O-O-O,Nd4,Nxd4,Qxd4,Bf8,b4,b6,Ba6+,Kb8,a4,Bc6,a5,hxg3,hxg3,Bc5,bxc5,bxc5,Rb1+,Ka8,Qxc5,d4+,Kf2,Rh2+,Ke1,d3,Bb7+,Qxb7,Rxb7', 'Re2+,Kd1,Ba4+,Rb3,Bxb3#', 'https://lichess.org/training/RSRzj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rSs9q', 'Blitz', 'roim11', 1526, 'Damonyr', 1657, 'd4,d5,c4,e6,e3,Nf6,Nc3,Be7,a3,Nbd7,Nf3,b6,Be2,Bb7,O-O,c5,b3,O-O,Bb2,Qc7,Nb5,Qb8,Qc2,Ne4,Nc3,Ndf6,Nd2,Bd6,g3,Nxg3,fxg3,Bxg3,Nf3,Ng4,h3,Nxe3,Qd2,Bh2+,Nxh2', 'Qg3+,Kh1,Qg2#', 'https://lichess.org/training/rSs9q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RSsjR', 'Blitz', 'hernandoguerrero', 2038, 'WFM fabsylla', 1988, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,O-O,Nf6,d4,Nxe4,d5,Ne7,Nxe5,d6,Nd3,Ba5,Bb2,O-O,Qf3,Nd2,Nxd2,Bxd2,Rad1,Bh6,Nf4,Nf5,Bd3,g6,Ne2,Bg7,Bxg7,Kxg7,Ng3,Nd4,Qe4,Qf6', 'Nh5+,Kh8,Nxf6', 'https://lichess.org/training/RSsjR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rstAj', 'Rapid', 'hisan35', 1775, 'nael_07', 1805, 'd4,g6,e4,Bg7,Nf3,d6,c4,Nf6,Nc3,O-O,h3,b6,Bd3,Bb7,Bg5,a5,a4,Na6,O-O,Nb4,Bb1,c6,Na2,d5,Nxb4,axb4,cxd5,cxd5,e5,Ne4,Bf4,b5,Qb3,bxa4,Rxa4,e6,Rxa8,Qxa8,Qxb4,Rb8,Qa3,Qxa3,bxa3,Ra8,Bc1,Nc3,Bd3,Ba6,Bxa6,Rxa6,Kh1,Bf8,Bb2,Ne2,Re1,Nf4,Ra1,Nd3,Bc1,Nxf2+,Kh2,Nd3,a4,Nxc1,Rxc1,Rxa4,Rc8,h5,g4,hxg4,hxg4,g5,Kg3,Kg7,Rc7,Kg6,Rc8,Bb4,Rg8+,Kh7,Rxg5,Bc3,Rh5+,Kg6,Rg5+,Kh6,Rh5+,Kg6,Rg5+,Kh6,Rh5+,Kg7,Rg5+,Kf8,Rh5,Bxd4,Rh8+,Ke7,Nxd4,Rxd4,g5,Re4,Rh7,Rxe5,g6,Kf8,Rxf7+,Kg8,Kf4,Re4+,Kg5,d4,Kh6,Rh4+,Kg5,Rh1,Kf6,Rf1+,Kxe6', 'Rxf7,gxf7+,Kf8,Kd5,d3,Kd4,d2', 'https://lichess.org/training/rstAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RsTpd', 'Rapid', 'PDVNN', 1930, 'Tokama', 2008, 'd4,e6,e3,f5,Bd3,Nf6,Nf3,b6,c4,Bb7,a4,Be7,O-O,O-O,Nc3,Ne4,a5,d6,Nd2,Nxc3,bxc3,Nd7,e4,fxe4,Bxe4,Bxe4,Nxe4,h6,Be3,Nf6,Qc2,Ng4,Rfe1,Nxe3,Rxe3,e5,d5,Rf4,f3,Qf8,Qa4,g5,axb6,cxb6,Qd7,a5,Rb1,Rf7,Qc6,g4,fxg4,Rc8,Qb5,Rf4,Qxb6,Rxc4,Ng3,Bg5,Rd3,a4,Ra1,Rxg4,Qb5,e4', 'Qxc4,exd3,Qxg4', 'https://lichess.org/training/RsTpd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rsw0H', 'Rapid', 'Soumyadeep', 1622, 'rcsoft', 1709, 'e4,e5,Nf3,d6,c3,Qf6,d4,exd4,cxd4,Qd8,Nc3,a6,Bf4,Nf6,Bd3,h6,O-O,Be7,e5,dxe5,dxe5,Nd5,Nxd5,Qxd5,a4,Nc6,b4,Bg4,b5,axb5,axb5,Rxa1,Qxa1,Qxd3,bxc6,O-O,cxb7,Bxf3,gxf3,Qxf3,Qa7,Bh4,Bg3,Bxg3,fxg3,Qb3,Qa8,Qb6+,Rf2,Qb1+,Kg2', 'Qe4+,Kg1,Rxa8,bxa8=R+,Qxa8', 'https://lichess.org/training/Rsw0H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rswQY', 'Blitz', 'veli8282', 1677, 'Luna3435', 1618, 'd4,d5,Bg5,Nc6,e3,Bf5,a3,h6,Bh4,g5,Bg3,Bg7,Nf3,Qd7,Bb5,a6,Ne5,Bxe5,Bxe5,f6,Bxc6,Qxc6,Bg3,Qxc2,Qxc2,Bxc2,Nc3,O-O-O,O-O,c6,b4,h5,h3,h4,Bh2,Nh6,Rfc1,Bg6,a4,g4,b5,axb5,axb5,e6,bxc6,bxc6,Nb5,Be8,Ra7,gxh3,Rc7+,Kb8,R7xc6+,Kb7,Rc7+,Kb6,Na3,hxg2,R7c5,Ng4,Bc7+,Kb7,Bxd8,h3,Rc7+,Ka6,f3,Nxe3,Nc2,h2+,Kf2,h1=Q,Nb4+,Ka5,R1c5+,Kxb4,Rb7+,Ka3', 'Ra5+,Ba4,Be7+,Ka2,Rxa4#', 'https://lichess.org/training/rswQY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rSWxI', 'Rapid', 'luis_alfredop', 2303, 'hohoho_Yuriy', 2291, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Nf6,Nf3,Bf5,Ne5,Nc6,Qa4,Bd7,Nxd7,Qxd7,e3,e6,Bd2,a6,Bb5,Be7,Bxc6,bxc6,Rc1,O-O,O-O,c5,dxc5,Bxc5,Qxd7,Nxd7,Na4,Ba7,Rc7,Nf6,Bb4,Rfc8,Rfc1,Rxc7,Rxc7,d4,exd4,Bxd4,Bc5,Bxc5,Nxc5,h6,Nb3,Nd5,Rb7,Rc8,g3,Rc6,Kg2,Rc2,Nd4,Rd2,Nf3,Ne3+,Kh3,Rxf2,Ne5,Nd5,Rb8+,Kh7,Nd7,f5,Nf8+,Kg8,Nxe6+,Kf7,Nd4,g6,Rd8,Ne7,Rd7,Rxb2,Nc6,Re2,Ra7,g5,Nxe7', 'g4+,Kh4,Rxh2#', 'https://lichess.org/training/rSWxI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RSWZU', 'Rapid', 'Alena4', 1736, 'ahmedelmorsy22', 2049, 'c4,e5,e3,f5,g3,Nf6,h3,Bc5,a3,a5,Nc3,d6,Bg2,Nc6,Bxc6+,bxc6,f3,Qe7,Nge2,Qf7,b3,Qh5,Ng1,O-O,Nce2,e4,Nf4,Qf7,h4,a4,b4,Bb6,Qe2,Ba6,b5,cxb5,cxb5,Bb7,fxe4,Nxe4,Rh3,Nc5,g4,Be4,Rg3,Nb3,gxf5,Bxf5,Bb2,g6,h5,Nxa1,Bxa1,Rae8,hxg6,Bxg6,Nxg6,hxg6,Rh3,Re5,Bxe5,dxe5,Nf3,Qf5,Rg3,Kg7,Nh4', 'Qb1+,Qd1,Rf1+,Kxf1,Qxd1+', 'https://lichess.org/training/RSWZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RSXfF', 'Blitz', 'alfacentauryi', 1887, 'kingofryhe', 2129, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bb5,e6,O-O,Bd6,c4,Ne7,Nc3,dxc4,d5,exd5,Bg5,f6,Bh4,O-O,Bg3,Bxg3,hxg3,a6,Bxc6,bxc6,Qa4,Qb6,b3,cxb3,Rab1,Nf5,Rxb3,Qc5,Rc1,Nxg3,Rbb1,Bf5,Ne4,Ne2+,Kf1,Nxc1,Nxc5,Bxb1,Qxc6,Bxa2,Nd7,Rfc8,Qe6+,Kh8,Nb6,Bc4+,Kg1,Re8,Qf7,Ne2+,Kh2,Rad8,Nh4,Nf4,Nf5,Ne6,Nd7,d4,Nxf6,gxf6', 'Qxf6+,Kg8,Nh6#', 'https://lichess.org/training/RSXfF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RSyl1', 'Classical', 'AmShakes', 1918, 'SpartanAngelll', 1932, 'e4,c6,f4,d5,e5,e6,d3,Ne7,Nf3,Nf5,Nbd2', 'Ne3,Qe2,Nxc2+', 'https://lichess.org/training/RSyl1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RSZ9i', 'Rapid', 'Ketochi', 1660, 'UltimateWorrior', 1630, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,Nd4,Nc3,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nxc2+,Kd2,Nxa1,Nd5,h5,Qe6+,Be7,Qf7+,Kd7,Qxg7,Nh6,Nf7,Nxf7,Qxf7,Rf8', 'Nf6+,Kc8,Qe6+,Kb8,Nd7+,Qxd7,Qxd7', 'https://lichess.org/training/RSZ9i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rt3EE', 'Rapid', 'arthurp272', 1607, 'HarborJoe', 1640, 'e4,c6,f4,d5,exd5,cxd5,Nf3,Nc6,Bb5,Nf6,O-O,Bg4,d3', 'Qb6+,Kh1,Qxb5', 'https://lichess.org/training/rt3EE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rt58R', 'Blitz', 'SGenos', 2438, 'FM Maestro_Isa', 2472, 'd4,d5,c4,e6,Nf3,Nf6,g3,Bb4+,Bd2,Be7,Bg2,c6,O-O,Nbd7,Qc2,b6,Ne5,Nxe5,dxe5,Nd7,cxd5,cxd5,Bc3,Bb7,Nd2,Rc8,Qa4,a6,Qg4,O-O,e4,d4,Bxd4,Nc5,Nb3', 'Nxb3,axb3,Qxd4', 'https://lichess.org/training/rt58R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rt5tI', 'Rapid', 'jamshed-zarifzoda', 1780, 'yacol', 1767, 'e4,e5,Bc4,Bc5,Nf3,d6,d3,h6,h3,Nf6,Nc3,Nc6,a3,Bd7,Be3,Nd4,O-O,O-O,b4,Bb6,Nd5,Nxd5,Bxd5,c6,Bc4,Kh7,c3,Nb5,Bxb5,Bxe3,fxe3,cxb5,Nh2,a6,Rf3,Rc8,Rc1,Qb6,Qe2,a5,Rg3,axb4,axb4,f6,Qh5,Be8', 'Qf5+,Kh8,Qxc8', 'https://lichess.org/training/Rt5tI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rt7j8', 'Blitz', 'Divit-gangwal', 1821, 'daljeetsingh', 1965, 'e4,e5,Nf3,Nf6,Bc4,Nc6,d3,Be7,c3,O-O,Bb3,d6,h3,Na5,Bc2,Be6,Be3,Nc6,Nbd2,d5,exd5,Bxd5,d4,Bd6,dxe5,Nxe5,Nb3,Nxf3+,gxf3,Re8,Qe2,Bf4,O-O-O,Bxe3+,fxe3,Qe7,Rhe1,Bxb3,Bxb3,Rad8,Rxd8,Rxd8,e4,Qe5,Qc4,Qf4+,Kb1,Rf8,Rd1,Qxf3', 'Qxf7+,Rxf7,Rd8+,Ne8,Rxe8#', 'https://lichess.org/training/rt7j8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RtatI', 'Rapid', 'Martina1', 1774, 'andreafalconetti', 2176, 'd4,e6,e3,Be7,f4,Bh4+,g3,Be7,h4,Na6,c3,c6,b4,d6,a3,b6,Nd2,f6,Ngf3,g6,Bc4,Nc7,Rf1,a6,Ne4,b5,Bd3,Nd5,Qd2,a5,Rh1,axb4,cxb4,Nh6,Bb2,f5,Nc3,Nxb4', 'axb4,Rxa1+,Bxa1', 'https://lichess.org/training/RtatI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RTBRj', 'Bullet', 'scacco90', 1945, 'jakuboss2', 2006, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,e5,c3,g6,d4,Bg7,Qb3,Qb6,Qd5,Ngf6,Qb3,Qxb3,axb3,Nxe4,Re1,d5,Be3,O-O,Na3,f5,Nb5,f4,Bc1,exd4,cxd4,a6,Nc7,Rad8,Nxd5,Ndf6,Nxf4,cxd4,Ne6,Rfe8,Nxd8,Rxd8,Bf4,d3,Rad1,Nc5,Be5,Nxb3,Ng5,d2,Re2,Rc8,Bc3,Nh5,Ne4,Bxc3,Nxc3,Nf4,Re4,g5,Rb4,Re8,Rxb3', 'Re1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/RTBRj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rtBvG', 'Rapid', 'SharkSurya', 1819, 'BenediktCervantes', 1773, 'd4,b6,Nc3,Bb7,Nf3,g6,Bf4,Bg7,e3,Nf6,Bd3,Nh5,Be5,f6,Bg3,Nxg3,hxg3,e5,dxe5,fxe5,Qd2,Qe7,e4,h5,O-O-O,Bh6,Ng5,Bxg5,f4,exf4,gxf4,Bh6,Kb1,Nc6,Bb5,O-O-O,Rhe1,Ne5,Nd5,Bxd5,exd5,d6,Qf2,Ng4,Qf3,Qf6,Qa3,a5,Ba6+,Kb8,Qa4,Ka7,Be2,Qxf4,Qc6,Rc8,Rd3,Qb4,Rf1,Ne5,Qc3,Nxd3,Qxd3,b5,c3,Qc4,Qf3,Qg4', 'Qf2+,Ka6,Bxg4', 'https://lichess.org/training/rtBvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RtC0f', 'Blitz', 'mSakka', 1755, 'Nurlan1808', 1747, 'd4,b6,Nf3,Bb7,e3,Nf6,Bd3,e6,O-O,Nc6,Nbd2,Ne7,Re1,g6,c3,Bg7,b3,h5,Bb2,h4,h3,Nf5,e4,Ne7,e5,Nfd5,c4,Nf4,Be4,Bxe4,Rxe4,Nh5,Ng5,f6,exf6,Bxf6,Ndf3,Nf5,Qd2,Qe7,d5,O-O-O,Bxf6,Nxf6,Rf4,e5,Nxe5,Qxe5,Re1,Qd6,Nf7,Qf8,Nxh8,Qxh8,d6,c6,c5,b5,Qa5,Kb8,Qc7+,Ka8,a4,Nd5,Qa5,Nxf4,axb5,Nd4,b6,Nb5,Ra1,Rb8', 'Qxa7+,Nxa7,Rxa7#', 'https://lichess.org/training/RtC0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rtchO', 'Classical', 'Marat_V', 964, 'gaurisarkale', 819, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bb4,Bxc6,dxc6,Na4,Bg4,a3,Ba5,Nc5,O-O', 'Nxb7,Qb8,Nxa5', 'https://lichess.org/training/rtchO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rtCIv', 'Rapid', 'danielcarax28', 2231, 'Satyananda', 2244, 'd4,e6,c4,f5,g3,Nf6,Bg2,c6,Nf3,d5,O-O,Bd6,Nc3,O-O,Qb3,b6,cxd5,exd5,Bg5,Be6,Rad1,h6,Bc1,Nbd7,Qc2,Ne4,Nxe4,fxe4,Qxc6,exf3,Qxd6,Rf6,Bxf3,Bf7,Qa3,Rc6,Qb3,Nf6,Bd2,Rc4,Rc1,Rxd4,Bc3,Rc4,Bxf6,Qxf6,Qb5,Rac8,Rxc4,dxc4,Bd5,Rc5,Bxf7+,Qxf7,Qb4,Qc7,Rc1,b5,Rd1,a5,Qd2,Kh7,Qc2+,Kh8,Qd2,b4,Qd8+,Qxd8,Rxd8+,Kh7,Rd1,c3,bxc3,bxc3,Rc1,c2,Kf1,Kg6,Ke1,Kf5,Kd2,Kg4,Rxc2,Rd5+,Ke3,Kh3,Ke4,Rb5,e3,Kxh2,Kf3,Kh3,Rc7,Rf5+,Ke2,Kg2,Ra7,Rxf2+,Kd3,Rxa2,Rxg7,a4,Ra7,a3,Ke4,Kxg3,Kf5,h5,e4,Rf2+,Kg5,h4,e5,h3,Rxa3+,Rf3,Ra2,Re3,Ra5', 'h2,Ra1,Rxe5+', 'https://lichess.org/training/rtCIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rTckx', 'Rapid', 'alfrechess24', 2354, 'chesspro_digy', 2329, 'd4,Nf6,Bf4,e6,e3,c5,c3,d5,Nd2,Nc6,Ngf3,Bd6,Bg3,Bxg3,hxg3,Qb6,Rb1,c4,b3,cxb3,Nxb3,O-O,Bd3,a5,Qc2,h6,Nc5,Qc7,Na4,Bd7,Nb6,Nb4,cxb4,Qxb6,b5,Rac8,Qe2,Ne4,Bxe4,dxe4,Ne5,Be8,a4,Qd8,O-O,f6,Nc4,b6,Rfc1,Rf7,Nd2,Rfc7,Rxc7,Rxc7,Nxe4,Bg6,f3,Qd5,Qd3,Bxe4,fxe4,Qa2,Rf1', 'Rc2,Qxc2,Qxc2', 'https://lichess.org/training/rTckx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RTClY', 'Blitz', 'Vidum', 1741, 'x06', 1745, 'c4,e5,Nc3,Nc6,e3,Nf6,a3,d6,h3,Be6,b3,Be7,Bb2,O-O,Nge2,Qd7,Ng3,d5,cxd5,Nxd5,Be2,a6,Bf3,Nxc3,Bxc3,b5,b4,Rad8,Rb1,Ba2,Rc1,Bd5,O-O,Bd6,Ne4,f5,Nxd6,Qxd6,Bxd5+,Qxd5,Re1,Rf6,Bb2,Rg6,g3,Ne7,Rxc7,Rh6,Kh2,Ng6,Rc5,Qd6,Qb3+,Kh8,Rec1,Ne7,Bxe5,Qxd2,R1c2,Qd1,Qc3', 'Rxh3+,Kxh3,Qh1#', 'https://lichess.org/training/RTClY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rtDJA', 'Rapid', 'missuse', 1694, 'Sebastian_M', 1688, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,Nf6,d4,a6,Be3,cxd4,Nxd4,Qc7,Bb3,b5,a3,Be7,O-O,Bb7,f3,Nc6,Re1,Nxd4,Bxd4,e5,Be3,Rc8,Qe2,O-O,Rad1,Qa5,Bg5,Rxc3,bxc3,Qxc3,Bxf6,Bxf6,Rxd6', 'Qc5+,Kh1,Qxd6', 'https://lichess.org/training/rtDJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rTDKy', 'Blitz', 'ANANDHAKRISHNAN168', 1808, 'Yauhen_Harbacheuski', 1818, 'd3,e5,Nd2,Nf6,e4,d5,Ngf3,dxe4,dxe4,Bd6,c3,O-O,Qc2,Bg4,Be2,Nc6,h3,Bh5,g4,Bg6,Bd3,Bc5,Nf1,Qd6,Ng3,Rad8,Be2,Ne7,Bd2,Qb6,Rh2,Bd6,Be3,Qc6,O-O-O,Nxe4,Nf5,Nxf5,gxf5,Bxf5,Bd3,Bg6,Nh4,Nf6,Rg2,Bxd3,Qxd3,e4,Qe2,Be5,Bh6,Nd5,Rxg7+,Bxg7,Rg1,Qg6,Rxg6,hxg6,Bxg7,Kxg7,Qg4,Nf6,Nf5+,Kg8,Qg5,Nh5,Nh6+,Kg7,Nf5+,Kh7', 'Qh6+,Kg8,Ne7#', 'https://lichess.org/training/rTDKy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rte7f', 'Classical', 'redbirdbrownbear', 1704, 'pepband', 1682, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,Nc3,h6,Bxf6,Bxf6,e3,O-O,Be2,Re8,Ne5,Nd7,f4,Nxe5,fxe5,Bg5,O-O,Bxe3+,Kh1,Qh4,Rf3,Qxd4,Qf1,Re7,cxd5,Qxe5,dxe6,Bxe6,Bd3,Bg4,Rxe3,Qxe3,Nd5,Qc5,Nxe7+,Qxe7,Re1,Qb4', 'Re4,Qxb2,Rxg4', 'https://lichess.org/training/rte7f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RtETY', 'Rapid', 's_v_e', 1662, 'ERM7', 1651, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Bc5,e3,Nc6,Nf3,Qe7,Qd5,Bb4+,Nc3,Bxc3+,bxc3,O-O,h3,Nh6,Bxh6,gxh6,Bd3,Re8,Qe4,f5,exf6', 'Qxe4,Bxe4,Rxe4', 'https://lichess.org/training/RtETY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RTGau', 'Blitz', 'Denario17', 1824, 'simpleman19', 1799, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,d3,d6,Bg5,h6,Bh4,g5,Bg3,Bd7,Nd5,Nxd5,Bxd5,Rb8,c3,Ne7,Bb3,f5,exf5,Nxf5,d4,exd4,Nxd4,Nxd4', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/RTGau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rTjRC', 'Blitz', 'nightbird357', 1922, 'rieben_mangana', 2280, 'e4,c5,Nc3,Nc6,g4,d6,Bg2,Bd7,d3,g6,h3,Bg7,Nge2,Nf6,Ng3,h6,O-O,O-O,a4,Nd4,Nd5,e5,f4,Nxd5,exd5,f5,c3,exf4,Bxf4,fxg4,cxd4,gxh3,Be4,Bxd4+,Kh2,Qe7,Bxg6,Bxb2,Ra2,Be5,Re2,Rxf4,Rxf4,Qg5,Bf7+,Kh7,Rxe5,Qxf4,Re7', 'Qf2+,Kh1,Qg2#', 'https://lichess.org/training/rTjRC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rtk5e', 'Classical', 'Upan123', 1880, 'dilip_chepte-0210', 1980, 'e4,Nc6,d4,e5,Nf3,exd4,Bc4,Bc5,O-O,d6,h3,Nf6,Bg5,h6,Bh4,O-O,c3,d3,Bxd3,Qe7,b4,Bb6,a4,a5,b5,Ne5,Bc2,Ng6,Bg3,Nh5,Kh2,Nxg3,fxg3,Ne5,Nbd2,Bd7,Nd4,Rad8,Qh5,Qg5,Qe2,Qe7,N2f3,Kh7,Rae1,Kh8,Nh4,g6,Bb3,Kg7,Rf2,c5,bxc6,Nxc6,Nxc6,bxc6,Rf3,Bc7,Ref1,d5,Kh1,dxe4', 'Rxf7+,Rxf7,Rxf7+,Qxf7,Bxf7', 'https://lichess.org/training/Rtk5e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RTkSH', 'Rapid', 's0min', 1964, 'dignocrib', 2062, 'd4,d5,Bf4,f6,e3,Be6,Nf3,g5,Bg3,h5,h3,Nc6,Nc3,Nh6,Nb5,Rc8,Rc1,Bg7,c4,Nf5,cxd5,Nxg3,dxc6,Nxh1,cxb7,O-O,bxc8=N,Bxc8,Bc4+,e6,Ke2,g4,Nh4,f5,g3,Bb7,Bxe6+,Kh7,Bxf5+,Rxf5,Nxf5', 'Bf3+,Kd2,Bxd1', 'https://lichess.org/training/RTkSH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rtmVq', 'Rapid', 'afvfFicher', 1676, 'cerodemirovski', 1664, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,Nc6,d3,Qf6,Nd5,Qd8,Nc3,Nd4,Nxe5,dxe5,Qxg4,Nxc2+,Kd2,Nxa1,Qf5,Nf6,b3,Qd6,Bb2,Nxb3+,axb3,c6,Ra1,b5,Nxb5,cxb5,Bxb5+,Ke7', 'Ba3', 'https://lichess.org/training/rtmVq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rtoOf', 'Bullet', 'ramzaghi2', 1650, 'tibbcrosby', 1677, 'e4,e5,f4,d5,exd5,e4,Bc4,Nf6,Nc3,Bc5,d3,Bg4,Nge2,e3,h3,Bh5,g4,Bg6,f5,Nxd5,Nxd5', 'Qh4+,Ng3,Qxg3+,Kf1,Qf2#', 'https://lichess.org/training/rtoOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rtq4m', 'Rapid', 'DesertStormCarl', 1734, 'Aser_magdy22687', 1791, 'e4,g6,d4,Bg7,c4,c5,d5,Nf6,Qc2,d6,Nc3,O-O,Be2,Qa5,Bd2,a6,h3,Nbd7,Nf3,Qc7,g4,h6,Nh4,g5,Nf5,e6,Nxg7,Kxg7,h4,exd5,Nxd5,Nxd5,exd5,Ne5,hxg5,hxg5,Qh7+,Kf6,Qh6+,Ke7,Bxg5+,Ke8,Bf6,Bxg4,Bxg4,Nxg4,Qg7,Qa5+,Kf1,Nxf6,Qxf6,Qd2', 'Re1+,Qxe1+,Kxe1', 'https://lichess.org/training/rtq4m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rtqcM', 'Rapid', 'pawnkiller1989', 1861, 'tiger_chess2020', 1929, 'e4,e5,f4,d5,exd5,Qxd5,fxe5,Qxe5+,Be2,Bc5,Nf3,Qe7,d4,Bd6,O-O,Nf6,Bb5+,c6,Re1,Be6,Bc4,O-O,Bd3,Qd7,Bg5,Nd5,c4,Nf4,Bxf4,Bxf4,Ne5,Qxd4+,Kh1,Bxe5,Nc3,Bg4,Qd2,Bf4', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/rtqcM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RtQGg', 'Rapid', 'pifas', 1665, 'strongadam1', 1722, 'e4,c5,Nf3,Nc6,Bc4,d6,Ng5,e6,d3,a6,Nc3,b5,Bb3,Nf6,a3,h6,Nf3,Be7,O-O,Bb7,a4,O-O,Ne2,Qc7,Bf4,e5,Bg3,Nh5,c4,Nxg3,hxg3,bxc4,Bxc4,Kh7,Nc3,Nd4,Nd5,Bxd5,Bxd5,Rab8,Nxd4,exd4,b3,Rh8,Qf3,Bf6,Qf5+,Kg8,f4,h5,Rae1,Re8,Re2,Qe7,Rfe1,g6,Qh3,h4,g4,g5,g3,hxg3,Qxg3,gxf4,Qf3,Bh4,Rf1,Bg3,Rg2,Qh4,Rxg3', 'Qh2#', 'https://lichess.org/training/RtQGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RtRDP', 'Rapid', 'Vargan_Nikita', 1903, 'hrayr27', 1832, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Nge2,Bg4,d4,Qe6,Nb5,Qc6,Qd3,a6,Qg3,Bxe2', 'Nxc7+,Kd8,Nxa8', 'https://lichess.org/training/RtRDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RTREZ', 'Blitz', 'Chess-E-James', 1551, 'dukono', 1715, 'e4,Nf6,d4,Nxe4,Bc4,d5,Bd3,Nf6,f4,e6,Nf3,Be7,O-O,O-O,Ne5,c5,f5,cxd4,fxe6,Bxe6,Bg5,Ne4,Bxe7,Qxe7,Bxe4,dxe4,Qxd4,Rd8,Qxe4,Bd5,Qf4,f6,Ng4,Qc5+,Kh1,Qxc2,Nxf6+,gxf6,Qg4+,Qg6,Qh3,Nc6,Nc3,Bc4,Rf4,Ne5,Re1,Bf7,Rxe5', 'Qb1+,Nxb1,Rd1+,Re1,Rxe1+,Rf1,Rxf1#', 'https://lichess.org/training/RTREZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rTRSc', 'Rapid', 'zenonp', 1958, 'Hoppsik', 2095, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Qf6,Be3,Nge7,Bc4,O-O,O-O,Ne5,Bb3,N7g6,Nf5,Bxe3,fxe3,Qg5,Qe2,d6,Nd2,Bd7,Rf2,h5,Raf1,h4,h3,Ne7,Nxe7+,Qxe7,Kh2,Be6,Qh5,Bxb3,Nxb3,Ng6,Qf5,Rae8,Nd2,a6,b4,Ne5,a4,b5,axb5,axb5,Rf4,Ng6,Qg4,Nxf4,Rxf4,c5,Qh5,Qe5,Qxh4,Qxc3,Nf3,Qxe3', 'Ng5,Qxf4+,Qxf4', 'https://lichess.org/training/rTRSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RTRzM', 'Rapid', 'E_Onegin', 1793, 'RookAtMeNow', 1803, 'e4,c5,b4,e5,bxc5,Bxc5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,d6,h3,O-O,Nc3,a6,a4,Nd4,Be3,Nxf3+,Qxf3,Bxe3,Qxe3,Qe7,Rad1,Be6,Nd5,Nxd5,exd5,Bf5,Qf3,Bg6,Rfe1,Qg5,c3,Rac8,d4,Rxc4,dxe5,dxe5,d6,Bc2,Rd5,f6,d7,Rd8,Rd6,Bxa4,Qd5+,Kh7,Qxc4,Rxd7,Rxd7,Bxd7,Qd3+,Bf5,Qd8,Bxh3,Qd3+,Bf5,Qf3,Be6,Rb1,Bc8,Qd3+,Bf5,Qf3,Bc8,Rb4,Qd2,Qe4+,Kg8', 'Qc4+,Kh7,Qxc8', 'https://lichess.org/training/RTRzM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rTSts', 'Classical', 'Notyetuhuru', 1999, 'gomer1377', 1866, 'd4,e6,c4,d6,Nf3,h6,Nc3,c6,e4,Nd7,Be3,Ndf6,Bd3,Ng4,Bd2,e5,h3,N4f6,dxe5,dxe5,Qe2,Bd6,O-O-O,b6,g4,Nd7,h4,Nc5,g5,Bg4,h5,hxg5,Bxg5,Bxf3,Bxd8,Bxe2,Bxe2,Kxd8,Rxd6+,Kc7,Rhd1,Nf6,b4,Ncxe4', 'Nxe4,Nxe4,Rd7+', 'https://lichess.org/training/rTSts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rtU5X', 'Rapid', 'LeftySlider', 1622, 'Modestlobster', 1634, 'e3,e5,Nc3,d5,b3,Bb4,Bb2,Qd6,Nf3,Ba3,Rb1,Bxb2,Rxb2,Nc6,d3,Qb4,Qd2,Nf6,g3,Bg4,Bg2,h5,O-O,O-O-O,h3,Be6,Rbb1,e4,Ne1,h4,g4,Nh7,a3,Qa5,b4,Qb6,b5,Ne7,a4,Ng5,Na2,d4,Nb4,Qa5,c3,dxc3,Qxc3,f6,Nec2,Nd5', 'Nxd5,Qxc3,Nxc3', 'https://lichess.org/training/rtU5X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rtUES', 'Blitz', 'moji2177', 1674, 'ccmagnuscc', 1763, 'e4,c5,d3,Nc6,a3,e5,h3,Nf6,Nf3,d5,exd5,Nxd5,Bd2,Bd6,Nc3,Nxc3,Bxc3,f6,Be2,O-O,g4,Nd4,Nxd4,cxd4,Bd2,b6,h4,Bb7,Rg1,f5,gxf5,Qxh4,Bg5,Qh3,Bg4,Qh2,Kd2,Qxf2+,Qe2,Qxe2+,Kxe2,e4,Raf1,exd3+,cxd3,h6,Bh4,Rae8+,Kd2,Re3,f6,Ba6,fxg7,Rxd3+,Kc2,Rxf1', 'Be6+,Rf7,Bxf7+,Kxf7,g8=Q#', 'https://lichess.org/training/rtUES');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RtUUQ', 'Classical', 'xatikuna', 1875, 'mm1335', 1872, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe5+,Qe7,Qf4,d5,Bb5+,Bd7,Bxd7+,Qxd7,Qe5+,Ne7,Nc3,d4,Nd5,Rd8', 'Nc7+,Qxc7,Qxc7', 'https://lichess.org/training/RtUUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RtveX', 'Blitz', 'halsau', 2513, 'GM adiosabu23', 2463, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,c4,Bg4,Nc3,e6,cxd5,exd5,Bb5,Nf6,O-O,Be7,Bg5,O-O,Re1,h6,Bh4,Rc8,Bxc6,bxc6,Qd3,Bxf3,Qxf3,Rb8,b3,Bb4,Rac1,g5,Bg3,Rb7,Be5,Nd7,Bg3,Re8,h3,Rxe1+,Rxe1,Nf8,Be5,Ng6,Bf6,Be7,Bxe7,Rxe7,Rc1,Nf4,Kh2,Qd7,Na4,Re2,Nc5,Qf5,Nb7,Qe4,Qxe4,dxe4,Rxc6,Rxf2,Rc8+,Kg7,Re8,Rxg2+,Kh1,Re2,Nd6,Nxh3,Nf5+,Kg6,Ng3,Rxa2,Nxe4,Re2', 'Rg8+,Kf5,Ng3+', 'https://lichess.org/training/RtveX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RtWJT', 'Blitz', 'debonariak', 2127, 'RoseJunkie', 2071, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Nxe4,Nxd4,d5,Bb5,Bd7,Bxc6,bxc6,Re1,Be7,f3,Nf6,Nc3,O-O,Bg5,h6,Bh4,c5,Nb3,c4,Nd4,c5,Nde2,Bc6,Bg3,d4,Nb1,Nd5,Bf2,Rb8,b3,c3,Na3,Re8,Nc1,Bg5,Nc4,Qf6,Nd3,h5,Nxc5,h4,Bxd4', 'Rxe1+,Qxe1,Qxd4+', 'https://lichess.org/training/RtWJT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rTXOG', 'Blitz', 'Maximurks', 1977, 'lifelost61', 2028, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Qe2,e5,Nf5,Bxf5,exf5,Be7,Bg5,O-O,O-O-O,Nbd7,g4,b5,Bg2,b4,Bxa8,bxc3,Bc6,cxb2+,Kb1,Nc5,Be3,Qc7,Bxc5,Qxc6,Ba3,Ne4,Bxb2,Rb8,Ka1,Rxb2,Kxb2,Qb6+,Ka1,Nc3,Qc4,Qa5,Rd3,Nb5,h4,h6,g5,e4,g6,exd3', 'Qxf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/rTXOG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ru1eG', 'Rapid', 'Negazuy', 1704, 'Protuberance', 1904, 'e4,g6,d4,Bg7,Nf3,b6,Bc4,Bb7,Nc3,e6,O-O,Ne7,Bg5,d6,d5,exd5,Nxd5,Bxd5,Bxd5,c6,Bb3,Bxb2,Bh6,Bf6,e5,dxe5,Qxd8+,Kxd8,Bxf7,Kc7,Rad1,Nd7,Ng5,Nc5,Ne6+,Nxe6,Bxe6,Rad8,f4,Rxd1,Rxd1,Rd8,Rxd8,Kxd8,Kf2,e4,Ke3,Nf5+,Bxf5,gxf5,g4,fxg4,Kxe4,Bh4,Kf5,g3,hxg3,Bxg3,Kf6,Ke8,Kg7,Ke7,f5,a6', 'f6+,Ke6,f7', 'https://lichess.org/training/Ru1eG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rU1Jk', 'Rapid', 'RaWyse', 1706, 'Pavelpv', 1693, 'e4,e5,Nf3,Nc6,d4,Qf6,Nc3,Bb4,dxe5,Nxe5,Nxe5,Qxe5,Bd2,Qxe4+,Be2,Qxg2,Bf3,Qh3,Qe2+,Ne7,O-O-O,d6,a3,Bxc3,Bxc3,Bd7,Bxg7,Rg8,Bf6,Be6,Bxb7,Rb8,Ba6', 'Qh6+,Qd2,Qxf6', 'https://lichess.org/training/rU1Jk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ru1UQ', 'Rapid', 'ginting', 2169, 'Vitalik25rusnak', 2188, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qa4,e5,Nf3,Bc5,c3,Qb6,Qc2,a5,Bc4,Nf6,O-O,d6,a3,a4,Bg5,Nd7,Nbd2,O-O,Rad1,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Nd8,Bh6,Nf6,Nf3,Ne6,Qd2,Nxe4,Qc2,Nxf2,Rxf2,Bxf2+,Kh1,Be3,Bxf8,Kxf8,Rd3,Bh6,Nh4,Nf4,Rf3,Bg5,Qh7,Qc7,Rxf4,exf4,Ng6+,fxg6,Qxc7,Be7,Ba2,g5,Qc4,Ke8,Qg8+,Kd7,Qf7,Kd8,Bc4,Ra5,Qg8+,Kc7,Qe8,Re5,Kg1,d5,Bd3', 'Bc5+,Kf1,Rxe8', 'https://lichess.org/training/ru1UQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rU3bS', 'Blitz', 'Ramanujmitra', 1519, 'Petergame', 1509, 'e4,Nc6,d4,d6,h3,e6,Nf3,b6,Bd3,Nf6,Nc3,Bd7,Bg5,Be7,Qd2,h6,Bh4,O-O,e5,dxe5,Nxe5,Nxe5,dxe5,Nh7,Bxe7,Qxe7,O-O-O,c5,Bxh7+,Kxh7,Qxd7,Qg5+,Kb1,Qxg2,f4,Rad8,Qxa7,Rxd1+,Rxd1,Qxh3,Qxb6,Qf5,Rf1,g5,Qxc5,Rd8,Qe7,Rd2,Rg1', 'Qxc2+,Ka1,Qxb2#', 'https://lichess.org/training/rU3bS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ru3hL', 'Rapid', 'Djoradjon', 1602, 'Javi611', 1640, 'e4,c5,Bc4,Nc6,a4,d6,c3,Nf6,d3,g6,h3,Bg7,Nf3,O-O,O-O,Re8,Bg5,Na5,Ba2,b6,b4,Nc6,b5,Na5,Bxf6,Bxf6,d4,cxd4,cxd4,Bd7,e5,dxe5,dxe5,Bg7,Nc3,Rc8,Ne4,Nc4,Qd5,Be6,Qxd8,Rexd8,Neg5,Bd5,Rac1,e6,Rfe1,Bh6,Nd4,Bxg5,Rc2,Na3,Rxc8,Rxc8,Bxd5,exd5,Nc6,Ra8,Rd1,a6,Rxd5,axb5,e6,Bh6,e7,Bf8', 'Rd8,Rxd8,exd8=Q', 'https://lichess.org/training/ru3hL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ru4iK', 'Rapid', 'GertrudeStein', 1803, 'solteiro32', 1636, 'Nf3,d5,g3,Nc6,Bg2,e5,d3,Nf6,Nbd2,Bd6,O-O,b6,e4,dxe4,dxe4,Bb7,a4,Rb8,Re1,O-O,Nc4,Bc5,Qxd8,Rfxd8,Nfxe5,Nxe5,Nxe5,Re8,Nc4,Bxe4,Bxe4,Nxe4,Be3,Nd6,Nxd6,cxd6,Bxc5,dxc5,Kf1,Rbd8,Rad1,Rxe1+,Kxe1,Rxd1+,Kxd1,f5,Kd2,Kf7,Kd3,Ke6,f4,Kd5,b3,h6,c3,g6,h3,a6,g4,fxg4,hxg4,h5,f5,h4,fxg6,Ke6,g7,Kf7,Ke3,Kxg7,Kf3,Kg6,Kg2,Kg5,Kh3,a5', 'c4,Kh6,Kxh4', 'https://lichess.org/training/ru4iK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rU5mS', 'Rapid', 'wenjun', 1616, 'peppenappa', 1659, 'e4,c6,Nf3,d5,exd5,cxd5,Be2,Bf5,O-O,e6,h3,Bd6,b3,Nc6,Bb2,Nf6,Nc3,a6,Re1,Ne5,Nxe5,Bxe5,Bb5+,axb5,Rxe5,Qd6,Nxb5,Qc5,Qe2,Qxc2,Re1,Qxb2,Nd6+,Kf8,Nxf5,Ne4,Rxe4,dxe4,Qxe4,exf5', 'Qe7+,Kg8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/rU5mS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ru7FR', 'Rapid', 'Khaldi_smail94', 1834, 'Dumboy', 1837, 'e4,d6,Nf3,Nf6,d4,g6,Bd3,Bg7,Nc3,Bg4,Be3,e5,d5,O-O,h3,Bxf3,Qxf3,c6,Bg5,Nbd7,Bc4,c5,Nb5,Qa5+,c3,h6,Bxf6,Nxf6,Nxd6,Qb6,Nb5,a6,Na3,Qxb2,O-O,Qxa3,Rfb1,Qa5,a4,Qc7,a5,Nh5,Rb6,Qd7,Rab1,Rab8,Bxa6,f5,Rxb7,Rxb7,Rxb7,Qd8,exf5,Rxf5,Qd3,Nf4,Qc4,Qg5,d6+,Kh7,Qf1,Nxh3+,Kh2,Qh4,gxh3,Qf4+,Kh1,Qe4+,Qg2,Qe1+,Bf1,Rxf2,Qg1', 'Rxf1,Qxf1,Qxf1+', 'https://lichess.org/training/ru7FR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ru8vP', 'Classical', 'elmams', 1752, 'Dead2HD', 1741, 'e4,c6,Nc3,d5,d3,dxe4,Nxe4,Nd7,Bg5,h6', 'Nd6+,exd6,Bxd8', 'https://lichess.org/training/ru8vP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ru9Ws', 'Blitz', 'SoytuPapuUPC', 2139, 'krakenUPC', 1918, 'Nf3,Nf6,c4,c5,g3,g6,Bg2,Bg7,O-O,O-O,Nc3,Nc6,Rb1,Rb8,a3,a6,b4,cxb4,axb4,d6,d3,Bg4,Be3,Qd7,b5,axb5,cxb5,Bxf3,exf3,Ne5,h3,Qc7,Rb3,b6,f4,Ned7,d4,e5,fxe5,dxe5,dxe5,Nxe5,Bf4,Nfd7,Nd5,Qa7,Ne7+,Kh8,Nc6,Nxc6,bxc6,Ne5,Qd6,Rbd8,Bxe5,Rxd6,Bxd6,Rd8,c7,Rc8,Re1,Bf8,Bxf8,Rxf8,Rc3,Rc8,Rce3,Rxc7', 'Re8+,Kg7,Ra8,Qa5,Rxa5', 'https://lichess.org/training/Ru9Ws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RuATy', 'Classical', 'Vitjjeta', 1606, 'neppils', 1605, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,Nxe5,Qg5,Nf3,Qxg2,Rf1,d6,Nc3,Bh3', 'Rg1,Qxg1+,Nxg1', 'https://lichess.org/training/RuATy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUazK', 'Rapid', 'chernovig', 1922, 'juan-oliveira', 1870, 'e4,e5,d4,exd4,c3,c5,Bc4,Nc6,Bxf7+,Kxf7,Qh5+,g6,Qd5+,Ke8,Nf3,Nf6,Qb3,d5,Bg5,Be7,Bxf6,Bxf6,exd5,Qe7+,Kd2,dxc3+,bxc3,Bg5+,Kd1,Qd6,Re1+,Kd8', 'Nxg5,Na5,Nf7+,Kc7,Nxd6', 'https://lichess.org/training/rUazK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUc8S', 'Rapid', 'samsidor', 1853, 'Gurkhey', 1700, 'e4,c6,d4,e6,c4,Bb4+,Bd2,c5,Bxb4,cxb4,Nf3,a5,d5,d6,a3,bxa3,Nxa3,b6,Nb5,Ba6,Be2,Bxb5,cxb5,Nd7,O-O,Ngf6,Qd3,O-O,dxe6,fxe6,Qxd6,Nc5,e5,Nfe4,Qd1,Qe8,Qc2,Qg6,Bd3', 'Rxf3,Bxe4,Nxe4', 'https://lichess.org/training/rUc8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUD2b', 'Blitz', 'GM athena-pallada', 2709, 'GM Chamaeleon3', 2689, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bd2,Ngf6,O-O-O,Be7,Kb1,Qb6,Qe2,c5,dxc5,Bxc5,Bc3,Rc8,Ne4,Be7,Bd4,Qc6,Nxf6+,Bxf6,Bxf6,Nxf6,Nd4,Qc5,g4,O-O,c3,Rfd8,f3,Nd5,Qe4,Qb6,Ka1,Rd7,Rd2,Rcd8,Rhd1,a6,a3,Qc7', 'Nxe6,fxe6,Qxe6+,Kh8,Rxd5', 'https://lichess.org/training/rUD2b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUe7j', 'Blitz', 'ligotti2006', 2336, 'IM amrsobh', 2397, 'd4,Nf6,Nf3,e6,g3,c5,Bg2,cxd4,Nxd4,Nc6,O-O,Bc5,Nb3,Be7,c4,d5,cxd5,Nxd5,a3,O-O,Nd4,Nxd4,Qxd4,Bf6,Qd3,Nb6,Rd1,Qxd3,Rxd3,e5,Nc3,Bf5,Rd1,Rab8,Nd5,Nxd5,Bxd5,b6,Be3,Rbc8,Rd2,h6,Rad1,Bc2,Rc1,Bf5,Rcd1,Bh3,Bg2,Bxg2,Kxg2,Rc7,Rd7,Rfc8,f3,Kf8,Bf2,Ke8,R7d2,Rc2,h4,e4,fxe4,Bxb2,Rd7,Rxe2,Rxa7', 'Rcc2,Ra8+,Ke7', 'https://lichess.org/training/rUe7j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RUEJp', 'Rapid', 'PetrEPL', 1710, 'denovch', 1787, 'e4,c5,Bc4,Nf6,d3,Nc6,a3,e6,Nc3,d5,Bb5,d4,Bxc6+,bxc6,Nce2,e5,h3,Be7,Nf3,Qc7,Ng3,Rb8,b3,a5,a4,h6,Bd2,Bd6,O-O,Qd8,Qe1,Ra8,Kh2,g5,Qc1,g4,Nh4,gxh3,Nhf5,hxg2,Kxg2,Ng4,Rh1,Bxf5,Nxf5,h5,f3,Ne3+,Bxe3,dxe3,Qxe3,Rg8+,Kf2,Bc7,Rxh5,Bb6,c4,Rb8,Qh6,Qd7,Ng7+,Kd8,Ke2,Kc7,Rxe5,Kb7,Qf6,Bc7,Re7,Qh3,Rf1', 'Qg2+,Rf2,Qxg7,Qxg7,Rxg7', 'https://lichess.org/training/RUEJp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RUfRe', 'Rapid', 'NoLyfe', 1892, 'shozolosa', 2246, 'e4,d6,d4,g6,Nc3,Bg7,Be3,Nc6,f3,e5,d5,Nce7,Qd2,f5,Bc4,a6,a4,Nf6,O-O-O,O-O,h4,fxe4,fxe4,Ng4,Kb1,Nxe3,Qxe3,Bg4,Nf3,Bxf3,gxf3,Rf4,h5,g5,h6,Bf6,Rdg1,Ng6,Ne2,Rh4,Rxh4,gxh4,f4,exf4,Nxf4,Bg5,Qc3,Bf6,Qh3,Qc8,Nxg6', 'Qxh3,Nf4+,Qg3,Rxg3+,hxg3', 'https://lichess.org/training/RUfRe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rugJV', 'Classical', 'bittersweetee', 1757, 'molocoton', 1679, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,Bg7,Be3,O-O,Be2,Nc6,O-O,cxd4,cxd4,Bg4,e5,Rc8,h3,Bxf3,Bxf3,Rc7,Rb1,Rd7,Bxc6,bxc6,f4,c5,Qa4,cxd4,Rfd1,dxe3,Rxd7,Qc8,Re1,f6,Qb3+,Kh8,Rd3,fxe5,Rdxe3,exf4,Rxe7,f3,gxf3,Qxh3,Rxg7', 'Qg3+,Kf1,Rxf3+,Qxf3,Qxf3+', 'https://lichess.org/training/rugJV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RuJzM', 'Blitz', 'frish', 2052, 'wasderos', 2032, 'Nf3,e6,e4,d5,exd5,exd5,d4,Nf6,Bg5,c6,Bd3,Bg4,O-O,Be7,Re1,O-O,Nbd2,Re8,c4,Nbd7,Qb3,Qc7,cxd5,cxd5,Rac1,Qb6,Ne5,Nxe5,dxe5,Nd7,Bxe7,Rxe7,Qxd5,Rae8,Qe4,f5,Qc4+,Kh8,h3,Nxe5,Qb5,Nxd3', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/RuJzM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RuKxc', 'Blitz', 'Enkhbat54', 2241, 'NM fourqueens13', 2341, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nge7,c3,Nxd5,Qxd5,Bb7,Qd3,Be7,Qg3,O-O,Nc2,Nb8,Bd3,Nd7,Ne3,Nc5,Nf5,Bf6,O-O,Nxe4,Qh3,g6,Nh6+,Kh8,Rd1,Ng5,Qg3,Kg7,h4,Kxh6', 'hxg5+,Kg7,gxf6+', 'https://lichess.org/training/RuKxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RuKXy', 'Rapid', 'amayak', 2053, 'boberarena', 2131, 'e4,Nf6,e5,Nd5,Nf3,d6,Bc4,e6,O-O,Nc6,d4,g6,Nbd2,dxe5,dxe5,Bg7,Qe2,Nb6,Rd1,Nd4,Nxd4,Qxd4,Bb5+,c6,Nf3,Qc5,Bg5,O-O,Bd3,Nd7,Re1,h6,Be3,Qa5,Bd2,Qc7,h4,Nc5,Be4,Nxe4,Qxe4,b6,Bb4,c5,Qxa8,Bb7,Qxf8+,Kxf8,Bc3,b5,b3,Qc6,Rad1,Ke7,Re3,g5,h5,g4,Ne1,Qa6,Red3,Bd5,Kh2,f5,f4,Qc8,Ba5,c4,Rd4,Qe8,Bb4+,Kd7,bxc4,Qxh5+,Kg3,bxc4,Rxc4,Bxe5,fxe5,f4+,Rxf4,Qxe5,Nd3,Qe3+,Kxg4', 'Qe2+,Kh4,Qxd1', 'https://lichess.org/training/RuKXy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUkYL', 'Rapid', 'bojana92kw', 1735, 'Matthias1373', 1694, 'd4,Nf6,Bg5,e6,h3,h6,Bh4,b6,e3,Bb7,Nf3,Nc6,Nc3,Be7,Bg3,d5,Nb5,Bd6,Nxd6+,cxd6,Bb5,O-O,Bxc6,Bxc6,O-O,Ne4,Bh2,f5,Nd2,Ng5,Qh5,Be8,Qe2,Rf6,Bf4,Rg6,Kh2,Nf7,Qh5,Nh8,Qe2,Nf7,Qh5,Nh8,Qf3,Nf7,Qh5,Qf6,c4,e5,dxe5,dxe5,Bg3,Nd6,Qe2,dxc4,Nxc4,Bb5,b3,a5,Bxe5,Qf7,Bxd6,Bxc4,Qxc4,Qxc4,bxc4,Rxd6,Rad1,Rc6,Rd4,Rac8,Rc1,b5,Rd5,Rxc4,Rxc4,bxc4,Rd1,c3,Rc1,c2,Kg3,Kf7,Kf4,Kf6,h4,g5+,hxg5+,hxg5+,Kf3,Ke5,g3', 'g4+,Ke2,Ke4', 'https://lichess.org/training/rUkYL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rulxA', 'Rapid', 'Maksom', 1612, 'honzo94', 1848, 'e4,e5,b3,Nf6,Bb2,Nc6,Bb5,Bc5,Bxc6,dxc6,Bxe5,Bd4,Bxd4,Qxd4,Nc3,Nxe4,Qe2,O-O,O-O-O,Nxf2,Nf3,Qb6', 'Na4,Qa6,Qxf2', 'https://lichess.org/training/rulxA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ruM06', 'Rapid', 'sashagambit', 1753, 'Dirchik', 1871, 'e4,c5,b4,e5,b5,Nf6,Nc3,Be7,d3,d5,exd5,Nxd5,Nxd5,Qxd5,Bb2,Nd7,c4,Qd6,g3,a6,a4,axb5,axb5,Rxa1,Bxa1,b6,Bg2,Qc7,Nf3,Bb7,O-O,O-O,Re1,Bf6,Qc2,Re8,Qd2,e4,Bxf6,Nxf6,Ng5,exd3,Rxe8+,Nxe8,Bxb7,Qxb7,Qxd3,g6,Qe4,Qxe4,Nxe4,f5,Nd2,Nd6,f4,Kf7,Kf2,h6,Ke3,Ke6,Kd3,g5,fxg5,hxg5,Nf3,Ne4,Ke3,g4,Nd2,Ke5,Nxe4', 'fxe4,Kf2,Kd4', 'https://lichess.org/training/ruM06');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ruMTy', 'Blitz', 'FM Den78', 2431, 'templario97', 2480, 'e4,d6,d4,Nf6,Nc3,e5,Nf3,Nbd7,Bc4,exd4,Nxd4,c6,O-O,Be7,a4,a5,Ba2,O-O,Kh1,Nc5,f3,g6,Bf4,Ne6,Nxe6,Bxe6,Bxe6,fxe6,Bh6,Rf7,f4,d5,f5,exf5,exf5,d4,fxg6,hxg6,Ne2,c5,Nf4,Rh7,Bg5,Ne4,Bxe7,Qxe7,Qf3,Nd2,Qd5+,Qf7,Rf2,Qxd5,Nxd5,Ne4,Rf4', 'Ng3+,Kg1,Ne2+,Kf2,Nxf4', 'https://lichess.org/training/ruMTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ruo1m', 'Rapid', 'ARELPRO021', 1674, 'vikramrf', 1687, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Qf3,Be6,Nc3,Bb4,Bxd5,Bxd5,Qg3,h5,Qxg7,Bxc3+,bxc3,Kd7,f3,Rg8,Qh6,Rxg2,Qxh5,Qg8,Be3,Rxc2,Qxe5,c6,d4,Qg2,Rb1,b5,a4,Bxf3', 'Qf5+,Ke8,Qxf3', 'https://lichess.org/training/ruo1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RuoHm', 'Blitz', 'Conde1', 1579, 'Gerson8Santiago', 1914, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nxd4,cxd4,e6,Nf3,Bd6,Bg5,Ne7,Bb5+,Bd7,Qb3,Bxb5,Qxb5+,Qd7,Qxd7+,Kxd7,O-O,f6,Be3,g5,Nc3,Rac8,Nb5,Bb8,Nd2,Nf5,Nb3,b6,g4,Ne7,a4,h5,f3,hxg4,fxg4,Bxh2+,Kg2,Rh4,Rxf6,Rxg4+,Kxh2', 'Rh8+,Rh6,Rxh6#', 'https://lichess.org/training/RuoHm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUolH', 'Blitz', 'FM igelg0', 2469, 'Zohaib_Gillani', 2445, 'c4,Nc6,Nc3,e5,e4,Bc5,g3,Nf6,Bg2,d6,h3,Be6,d3,Qd7,Nge2,h6,f4,exf4,gxf4,Qe7,d4,Bb4,d5,Bd7,dxc6,Bxc6,O-O,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Qa4+,Kf8,Qxb4,Qxe2,Qxb7,Re8,Qg2,Qxc4,Bd2,Re2,Qa8+,Ke7,Qf3,Rxd2', 'Qe3+,Qe6,Qxd2', 'https://lichess.org/training/rUolH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RuPdr', 'Blitz', 'FM yesaiedo', 2483, 'Poet1986', 2546, 'Nf3,d6,c4,e5,d4,Nd7,dxe5,dxe5,Nc3,c6,Bg5,Qc7,e4,h6,Be3,Ngf6,h3,Be7,Qc2,g5,Be2,Nf8,a3,a5,c5,Ng6,Na4,Be6,Nd2,Rd8,Bc4,Nf4,Bxe6,Nxe6,Nc4,Nf4,O-O,g4,Bxf4,exf4,e5,Nd5,Nd6+,Bxd6,exd6,Qd7,Rae1+,Kf8,Nb6,Nxb6,cxb6,gxh3,Qc3,Rg8,g3,Qxd6,Kh2,Qd5,Rg1,h5,gxf4,Rg2+,Kxh3,Rxg1,Rxg1,Qf5+,Kg2,Rd3', 'Qh8+,Ke7,Re1+,Kd7,Qe8+', 'https://lichess.org/training/RuPdr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUpjZ', 'Rapid', 'DavorP23', 2079, 'Mikhail54', 2004, 'c4,g6,d4,Bg7,Nc3,Nf6,e4,d6,f3,Nc6,Be3,e5,d5,Ne7,Qd2,c5,Bd3,O-O,a3,a6,Nge2,Bd7,O-O,Rb8,b4,b6,Ng3,Ne8,f4,f6,fxe5,fxe5,Rxf8+,Bxf8,Rf1,Bg7,Bh6,Nf6,Bxg7,Kxg7,Qg5,Neg8,Nf5+,Bxf5,exf5,Nh5,fxg6,Qxg5', 'Rf7+,Kh8,Rxh7#', 'https://lichess.org/training/rUpjZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RuPwy', 'Rapid', 'G-M-KHALED-REPLAY', 2109, 'saeed_pourhasan', 1894, 'e4,c5,b4,cxb4,d4,e6,c3,bxc3,Nxc3,Bb4,Bb2,Nf6,Ne2,Nxe4,Qd3,f5,Rc1,O-O,g3,Qg5,Bg2,Nxc3,Nxc3,Bxc3+,Qxc3,Nc6,O-O,Ne7,f4,Qg6,h4,Nd5,Bxd5,exd5,Ba3,Re8,Rfe1,Rxe1+,Rxe1,d6,Qc7,Qxg3+,Kf1,Qxf4+,Kg1,Qg3+,Kf1,Qh3+,Kg1,Qg3+,Kf1,h6,Bxd6,Qf3+,Kg1,f4', 'Re8+,Kh7,Qc2+,Qe4,Rxe4', 'https://lichess.org/training/RuPwy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ruQHw', 'Rapid', 'Bolsoasno', 2010, 'isam1911', 2144, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,Nc6,a3,h6,Bc4,Bc5,h3,O-O,O-O,b5,Ba2,Bb7,Kh1,Qb6,Qe2,Nd4,Nxd4,exd4,e5,Nh7,Nd5,Bxd5,Bxd5,Rac8,f4,a5,f5,d6,f6,dxe5,fxg7,Kxg7,Qh5,Qg6,Qf3,f5,Bd2,Bb6,Qb3,Nf6,Be6,Ne4,Be1,Nc5,Qxb5,Qxe6,b4,axb4,axb4,Ne4,Bh4,Rxc2,Ra6,Rc6,Rfa1,Rf7,Bd8,Nc3,Qxc6,Qxc6,Rxb6,Qd7,Bh4,d3,Raa6,Qd5,Rxh6,d2', 'Rag6+,Kf8,Rh8#', 'https://lichess.org/training/ruQHw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUscX', 'Rapid', 'bhaaratiya', 1993, 'amaqwawa', 2135, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nf3,d5,exd5,exd5,Be2,Nf6,O-O,Bd6,h3,Be6,Nc3,a6,Bg5,Qd7,Bd3,Bxh3,gxh3,Qxh3,Re1+,Kd7,Bh4,Ng4,Bg3,Bxg3,Bf5+,Kd6,Bxg4,Qxg4,fxg3,Qxg3+,Kh1,Rae8,Nh2,Re6,Rxe6+,fxe6,Qg4,Qf2,Qe2,Qxd4,Re1,Qf6,Rd1,Rf8', 'Ne4+,Kc7,Nxf6', 'https://lichess.org/training/rUscX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RUse3', 'Blitz', 'Pucus2', 1877, 'prabhat11', 1810, 'e4,c5,c3,e5,d4,cxd4,cxd4,exd4,Qxd4,d6,Nf3,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,Nf6,Nc3,Be7,Bg5,O-O,Rfe1,h6,Bh4,Ng4,Bxe7,Qxe7,h3,Ne5,Nxe5,dxe5,Qe3,a6,Red1,Rad8,Nd5,Qe6,Qb3,Rfe8,Rd2,Qg6,Rad1,Kh7,Nf6+', 'Qxf6,Rxd8,Rxd8,Rxd8,Qxd8', 'https://lichess.org/training/RUse3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RUSgR', 'Rapid', 'letmesmash', 2004, 'gudu123456', 1975, 'e4,c5,Nf3,b6,d4,cxd4,Nxd4,Bb7,Nc3,a6,Bg5,b5,a4,b4,Nd5,f6,Bf4,e5,Bxe5,fxe5', 'Qh5+,g6,Qxe5+', 'https://lichess.org/training/RUSgR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUSMk', 'Rapid', 'DenisPiratov', 1986, 'jonasjonas2120', 1855, 'e4,c5,Nf3,g6,Bc4,Bg7,O-O,e6,d4,cxd4,Nxd4,Ne7,Nc3,O-O,Bg5,Nbc6,Nxc6,bxc6,Qd6,f6,Rad1,fxg5,Bxe6+,Kh8,Bxd7,Bxd7,Qxd7,Qxd7,Rxd7,Ng8,Re1,Bxc3,bxc3,Nf6,Rc7,Rfc8,Rf7,Ng4,e5,Kg8,e6,a5,h3,Nh6,Rd7,g4,Kh2,gxh3,Kxh3,Nf5,g4,Ng7,e7,a4,Re4,a3,f3,h5,gxh5,gxh5,Rf4,Re8,Rf6,Rac8,f4,c5,Kh4,c4,Kg5,Rc5+,Kg6,h4,Rd8,Rc8', 'Rf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/rUSMk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rut8Y', 'Blitz', 'pgstar3', 1983, 'manchesstr', 1933, 'e4,g6,d4,Bg7,Be3,e6,Bd3,Ne7,Qd2,O-O,Ne2,Re8,Nbc3,d5,e5,Nd7,h4,c5,dxc5,Nxe5,Bb5,N7c6,O-O-O,Ng4,h5,a6,Bxc6,bxc6,hxg6,hxg6,Bg5,Qa5,f3,Nf2,Bh6,Nxd1,Bxg7,Kxg7,Qh6+,Kf6,Qh4+,g5,Qh6+,Ke7,Qxg5+,Kd7,Qe5,Qc7,Qxc7+,Kxc7,Kxd1,Bd7,Rh7,f5,Na4,Rad8,Nb6,Rg8,Nf4,Rge8,g4,e5,Nd3,e4,fxe4,fxe4,Nb4,Rg8,c4,Rxg4,cxd5,cxd5,N4xd5+,Kc6,b4,Be6', 'Rc7+,Kb5,a4#', 'https://lichess.org/training/rut8Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RutMZ', 'Blitz', 'naviyar', 1761, 'Wolokhov', 1747, 'e4,c6,d4,d5,exd5,cxd5,g3,Bf5,Bg2,e6,c3,Nf6,Nf3,h6,O-O,Nbd7,Ne5,Bd6,Bf4,O-O,Nd2,Rc8,Rc1,Qc7,Nxd7,Qxd7,Bxd6,Qxd6,Qe2,a6,f4,b5,a3,Qb6,Kh1,a5,Nb3,b4,axb4,axb4,Nc5,bxc3,bxc3,Qa5,Rf2,Rfd8,Qa2,Qxa2,Rxa2,Nd7,Nb7,Rf8,Nd6,Rc6,Nxf5,exf5,Bxd5,Rd6,Bf3,Nf6,Ra5,Rc8,Rxf5,Rxd4,cxd4,Rxc1+,Kg2,Rc2+,Kh3,Rd2,d5,Kf8,Re5,Nd7,Re3,g6,Kh4', 'Rxh2+,Kg4,f5#', 'https://lichess.org/training/RutMZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUu6A', 'Rapid', 'ihteandr1', 1857, 'Bish-Bash-Bosh', 1859, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,h3,Bf5,d3,e6,Bg5,c6,Nf3,h6,Bh4,Be7,Qe2,Nbd7,Nd4,Bg6,Bxe6,fxe6,Nxe6,Qb6,Nxg7+,Kf7,Qe6+,Kxg7,Qxe7+,Kg8,O-O,Rh7,Qe6+,Bf7,Qf5,Qxb2', 'Bxf6,Nxf6,Qxf6', 'https://lichess.org/training/rUu6A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ruviz', 'Classical', 'Moxit123', 2282, 'skipper_chess', 1859, 'Nf3,c5,c4,g6,Nc3,Nc6,e3,e5,d4,cxd4,exd4,exd4,Nxd4,Bg7,Be3,Nge7,Be2,O-O,O-O,d5,Nxc6,bxc6,Rc1', 'd4,Bd2,dxc3', 'https://lichess.org/training/Ruviz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RuWHH', 'Rapid', 'Jgor', 1985, 'hardkov', 2069, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,g6,Be3,Nc6,c3,Bg7,Qc2,O-O,Nd2,Nxd4,Bxd4,Be6,g4,Qa5,h4,h6,g5,hxg5,hxg5,Qxg5,O-O-O,Rac8,Kb1,Rfd8,Qa4,Rc6,Bc4,Bxc4,Nxc4,b5,Qxa7,bxc4,Qxe7,Re8', 'Bxf6,Rxe7,Bxg5', 'https://lichess.org/training/RuWHH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RUwsy', 'Rapid', 'MFI', 1786, 'badrlamal', 2011, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Nc3,Qc7,g3,Nf6,Bg2,Be7,O-O,d5,exd5,cxd5,Re1,Bb7,Nb5,Qb6,a4,O-O,Bf4,a6,Nd4,Bc5,c3,Rad8,Bg5,Be7,Be3,Qc7,Bf4,Bd6,Bg5,Be7,Bxf6,Bxf6,Qg4,e5,Nf5,Bc8,Bf3,g6,Nh6+,Kh8,Qb4,Bg5,Ng4,e4,Bg2,h5,Qd4+,f6,Bxe4,dxe4,Qxe4,hxg4,Qxg6,Qh7,Qe4,Rfe8', 'Qxe8+,Rxe8,Rxe8+', 'https://lichess.org/training/RUwsy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUWsz', 'Rapid', 'karavidas', 1625, 'konne', 1776, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,cxd4,cxd4,Qb6,Bxc6+,bxc6,Nf3,Ba6,Qc2,Ne7,Be3,Nf5,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Rb1,Qa5,Rb3,Rab8,Kd2,Bc4,Rxb8,Rxb8,Rb1,Rb6,Rxb6,axb6,Qb2,b5,Ke1,h6,Nd2,Nh4,Nxc4,bxc4,g3,Nf3+,Kf1,Qa4,Kg2,Ne1+,Kh3,Nd3,Qb8+,Kh7,Qc7,Qd1,Qxf7,Qf1+,Kh4,Qg2,h3,Qe4+,g4,Ne1,Qxe6,Nf3+,Kh5', 'g6+,Qxg6+,Qxg6#', 'https://lichess.org/training/rUWsz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ruxeS', 'Rapid', 'mbokhari', 1922, 'Yusupov_777', 1619, 'e4,g6,d4,Bg7,c4,d6,Nc3,e6,Nf3,Ne7,Bd3,O-O,O-O,c5,d5,exd5,exd5,b6,h3,Bb7,a4,a6,Bd2,b5,axb5,axb5,Rxa8,Bxa8,Nxb5,Bxb2,Bc3,Bxc3,Nxc3,Na6,Ne4,Nc8,Neg5,Nb4,Bb1,Nb6,Qb3,Re8,Ne4,N4xd5,cxd5,Bxd5,Qxb6,Qxb6,Nf6+,Kf8', 'Nd7+,Kg7,Nxb6', 'https://lichess.org/training/ruxeS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUXrN', 'Rapid', 'POLIN7', 1699, 'G7g4go', 1723, 'e4,Nf6,e5,Nd5,d4,e6,f4,c5,c3,cxd4,cxd4,Nc6,Nf3,Be7,Bc4,Nb6,Bb3,O-O,O-O,d5,exd6,Bxd6,Be3,Nd5,Bxd5,exd5,Nc3,Bc7,Qd3,h6,Rad1,a6,Ne5,Ne7,a4,Bf5,Qe2,f6,g4,fxe5,gxf5,exf4,Bxf4,Bxf4,Rxf4,Nxf5', 'Qe6+,Kh7,Rxf5', 'https://lichess.org/training/rUXrN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RUXTI', 'Classical', 'robwc7', 1792, 'CrowChess', 2102, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,h6,d4,exd4,Nxd4,Qe8,Qf3+,Kg8,Qe3,Nxd4', 'Nf6+,gxf6,Qxe8', 'https://lichess.org/training/RUXTI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rUyB3', 'Blitz', 'Grudgie', 1688, 'hrrousso', 1717, 'd4,e6,c4,d5,Nc3,c5,cxd5,cxd4,Qxd4,Nc6,Qa4,exd5,Bf4,Nf6,O-O-O,Be7,Nf3,O-O,Nxd5,Nxd5,e4,Qb6,exd5,Nb4,d6,Bf6,d7,Bxd7,Rxd7,Rac8+,Kb1,Qxf2,Qxb4', 'Qc2+,Ka1,Qc1+,Bxc1,Rxc1#', 'https://lichess.org/training/rUyB3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rV0D7', 'Rapid', 'Karol2008', 2115, 'cicim123', 2137, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,Ngf6,Bf4,e6,O-O-O,Be7,Rde1,O-O,Ne4,Nxe4,Qxe4,Nf6,Qe3,Nd5,Qe4,Nxf4,Qxf4,c5,Re4,Rc8,Rd1,cxd4,Rexd4,Qa5,Rd7,Bf6,a3,Bxb2+,Kxb2,Qc3+,Kb1,Qxc2+,Ka1,Qc3+,Ka2,Qc2+,Ka1,Rc3,Qb4,Rfc8,Rd8+,Kh7,Rxc8', 'Qxd1+,Qb1+,Qxb1+,Kxb1,Rxc8', 'https://lichess.org/training/rV0D7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rv1KZ', 'Classical', 'YETINHO', 1604, 'RustyGenos', 1788, 'e4,d5,e5,Nc6,d4,Bf5,Bb5,a6,Bxc6+,bxc6,Nc3,e6,Nf3,Bb4,Bd2,c5,Na4,Rb8,Nxc5,Bxc5,dxc5,Rxb2,Nd4,Be4,f3,Bg6,c6', 'Qh4+,g3,Qxd4', 'https://lichess.org/training/rv1KZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rV1WR', 'Rapid', 'sary_jouhara', 1806, 'Zahurul', 1814, 'd4,d5,Bf4,Bf5,Nc3,e6,a3,c5,e3,cxd4,exd4,Nc6,Nf3,Nf6,Nb5,Qa5+,Qd2,Qxd2+,Nxd2,Be7,Nc7+,Kd7,Nxa8,Rxa8,Bb5,Bxc2,Rc1,Be4,f3,Bf5,g4,Bg6,h4,h5,Kf2,Ne8,g5,Bd6,Bg3,Nc7,Bxc6+,bxc6,Nb3,Nb5,Nc5+,Bxc5,dxc5,Nd4,b4,a6,Be5,Nf5,Rc3,d4,Rd3,Ke7,Bxd4,Ng3,Rhd1,Bxd3,Rxd3,Nf5,f4', 'Rd8,Bf6+,gxf6,gxf6+,Ke8', 'https://lichess.org/training/rV1WR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rV2QN', 'Rapid', 'HdAsk', 1949, 'pigly', 1943, 'd4,g6,e4,Bg7,c4,e6,Nf3,Ne7,Bg5,f6,Bh4,d6,Bd3,O-O,O-O,Nd7,Nc3,c6,Qd2,Qe8,h3,Qf7,Nh2,f5,f4,e5,exf5,Nxf5,Bxf5,gxf5,fxe5,dxe5,dxe5,Nxe5,Qf4,Be6,Nf3,Nxf3+,Rxf3,Bxc4,Rc1,Bd5,Rg3,Kh8,Nxd5,Qxd5,Rxg7,Kxg7,Qg5+,Kh8,Qh6,Qd4+,Kh1,Qg7,Qd6,Rad8,Qf4,Rg8,Rc2,Rd1+,Kh2,Qd4', 'Qxd4+,Rxd4,Bf6+,Rg7,Bxd4', 'https://lichess.org/training/rV2QN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RV3ek', 'Rapid', 'new1111111', 1680, 'yummyyummyhippo', 1688, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,g6,d4,Bg7,d5,Nd4,Nxd4,exd4,Bf4,c6,dxc6,dxc6,Ba4,O-O,Qd2,b5,Bb3,Be6,Bxe6,fxe6,Bh6,c5,Bxg7,Kxg7,Rd1,e5,c3,Nc6,cxd4,exd4,Na3,a6,Nc2,Qf6,Ne1,Rad8,Nf3,h6,Qd3,c4,Qa3,d3,Qxa6,Qxb2,Qxc6,c3,Rdb1,Rc8,Qd7+,Kg8,Rxb2,cxb2,Rb1', 'Rc1+,Ne1,Rxb1', 'https://lichess.org/training/RV3ek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rv3ir', 'Rapid', 'IlyaBelousov', 1808, 'notarealbanana', 1811, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,h6,Nc3,O-O,h3,d6,Kh1,Ne7,Nh2,Ng6,Nd5,c6,Nxf6+,Qxf6,Ng4,Qd8,Ne3,Nf4,Kh2,d5,exd5,cxd5,Bb3,Qh4,Qf3,e4,dxe4,dxe4,Qg3,Qf6,Ng4,Bxg4,Qxf4', 'Bd6,Qxd6,Qxd6+', 'https://lichess.org/training/Rv3ir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RV4Ue', 'Classical', 'azhar1234', 1714, 'Blackcoffee84', 1622, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Nh6,Bxh6,Qxb2,Bxg7,Bxg7,Qc2,Qxa1,Nd2,Nxd4,cxd4,Qxd4,O-O,Bd7,Nb3,Qxe5,Qxc5,Bf6,N1d2,Bg5,Nf3,Qf6,Bb5,b6,Bxd7+,Kxd7,Qb5+,Kd8,Qc6,Rc8,Qd6+,Ke8,Nbd4,Rd8,Qc6+,Rd7,Qc8+,Ke7,Qa6,e5,Qa3+,Ke8,Re1,e4,Nxg5,Qxg5,Nb5,Rg8,g3,f5,Nxa7,f4,Nc6,fxg3,hxg3,Qf4', 'Qa8+,Kf7,Qxg8+,Kxg8,gxf4', 'https://lichess.org/training/RV4Ue');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rv524', 'Rapid', 'AndrzejUniwersytecki', 1675, 'Dr_chessAes', 1678, 'c4,e6,d4,d5,c5,b6,b4,Nc6,Bd2,Nxd4,cxb6,cxb6,e3,Nc6,b5,Nce7,Nf3,Nf6,Nc3,Ng6,Be2,Bd7,O-O,Be7,h3,O-O,Nd4,Ne5,f4,Nc4,Nc6,Qe8,Nxe7+,Qxe7,Bxc4,dxc4,e4,a6,bxa6,Rxa6,e5,Nd5,Ne4,Rc8,Nd6,Rb8,Qc2,b5,Rfb1,Nb6,Bb4,Qd8,Bc5,Nc8,Nxc4,Qc7,Nd6,Nxd6,exd6,Qc6,Rc1,Rc8,Qf2,Ra4,Rc2,Rc4,Rac1', 'Qxc5,Qxc5,R8xc5', 'https://lichess.org/training/rv524');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rv5kL', 'Blitz', 'FM Oscar-i', 2260, 'FM RafaSaladen', 2265, 'd4,Nf6,c4,e6,g3,c5,Nf3,cxd4,Nxd4,d5,Bg2,e5,Nc2,d4,O-O,Nc6,e3,Bg4,Qd2,d3,Ne1,Bb4,Nc3,Be2,a3,Bxc3,Qxc3,O-O,Bd2,e4,f3,Bxf1,Kxf1,exf3,Bxf3,Ne5,Bg2,Nfg4,h3,Qf6+,Kg1,Qf2+,Kh1,Qxg3,hxg4,Nxg4,Nf3,Rad8,Rf1,Rd6,Kg1,Rg6,Be1,Qxg2+,Kxg2,Nxe3+,Kf2', 'Nd1#', 'https://lichess.org/training/Rv5kL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RV5o8', 'Rapid', 'grayfiron', 1677, 'Trivial_persuit', 1687, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,Nc3,h6,Bh4,O-O,e3,b6,cxd5,Nxd5,Bxe7,Nxe7,Bd3,Bb7,Rc1,Nbc6,Be4,Rb8,O-O,Nb4,Bxb7,Rxb7,a3,Nbc6,Qd3,Na5,Ne4,c6,b4,e5,Nxe5,f6,Nf3,f5,Ned2,Rd7,bxa5,bxa5,Nc4,c5,Nxa5,cxd4,Rcd1,Qxa5,Nxd4,Qe5,Qb3+,Kh7,Nf3,Qc7,Rxd7,Qxd7,Rd1,Qc7,Qb2,Rd8,Rxd8,Qxd8,Qd2,Qb6,Kf1,Qb1+,Qe1,Qa2,Qc1,Nd5,Nd4,Nf6,Nxf5,Ng4,Qe1,Nxh2+,Kg1,Ng4,f3,Nf6,Qg3', 'Qb1+,Kh2,Qxf5', 'https://lichess.org/training/RV5o8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rV89Y', 'Rapid', 'Methuselah969', 1759, 'eduardoP', 1718, 'd4,d5,Bf4,Bf5,Nf3,h6,e3,Nc6,Bb5,a6,Ba4,b5,Bb3,a5,a3,a4,Ba2,g5,Nxg5,hxg5,Bxg5,Nb4,Nc3,Nxc2+,Kf1,c6,Rc1,f6,Bf4,Qc8,Rxc2,Qa6,Rc1,b4+,Kg1,bxc3,bxc3,Bh6', 'Qh5+,Kf8,Qxf5', 'https://lichess.org/training/rV89Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rv8dP', 'Rapid', 'Spartanweb', 1969, 'Ahaansamyak', 1776, 'e4,e6,d4,d5,Nc3,Bb4,Bd2,Bxc3,Bxc3,dxe4,f3,exf3,Nxf3,Nf6,Bd3,O-O,O-O,Nc6,Bc4,Nd5,Qd2,Nxc3,Qxc3,a6,Rad1,b5,Be2,Bb7,Bd3,b4,Qd2,Nxd4,Bxh7+,Kxh7,Qxd4,Qxd4+,Rxd4,Bxf3,Rxf3,c5,Rc4,Rac8,a3,a5,axb4,axb4,b3,Kg8,Rg3,Rfd8,h3,Rd4,Rg4,Rxg4,Rxg4,f5,Rg3,c4,Kf2,cxb3,cxb3,Kf7,Ke2,Kf6,Rd3,g5,g4,fxg4,hxg4,Rh8,Rd4,Rb8,Kf3,Ke5,Ke3,Kf6,Ke4,Rb6,Rc4,e5,Rc5,Ra6,Rxe5,Ra3,Rf5+,Kg6,Rb5,Rxb3,Kd4,Rb1,Kc4,Kf6,Rf5+,Kg6,Rb5,b3,Rxb3', 'Rxb3,Kxb3,Kf6', 'https://lichess.org/training/Rv8dP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RvAo5', 'Rapid', 'jirica', 1872, 'sans-c', 1955, 'e4,c5,Nf3,e6,c3,Nc6,Be2,d5,exd5,exd5,O-O,Nf6,d3,Be7,Na3,a6,Nc2,O-O,h3,b5,a4,Bb7,Bf4,Bd6,Bh2,Bxh2+,Nxh2,Qd6,axb5,axb5,d4,c4,Ng4,Rfe8,Nce3,Nxg4,Bxg4,b4,Qf3,Ne7,Nxc4,dxc4,Qxb7,Rxa1,Rxa1,g6,Ra7,bxc3,bxc3,Rb8,Qxb8+,Qxb8,Rxe7,Qb2,Re3,Kg7,Bf3,h5,g3,Kf6,Bd5,Qb5,Rf3+,Kg5,Bxf7,Qb7,d5,Qd7,Be6,Qd6,Kg2,Qe5,h4+,Kh6,Re3,Qd6,Re4,Kg7,Rxc4,Kf6,Rf4+,Ke5,c4,Qc5,Bh3,Qb6,f3,Qb2+,Kf1,Qc3,Re4+,Kf6,Re6+,Kf7,Re4', 'Qxf3+,Kg1,Qxe4', 'https://lichess.org/training/RvAo5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rvAt5', 'Rapid', 'yygh', 2091, 'Geralt27', 2056, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,c5,a3,Bxc3+,bxc3,O-O,Bd3,Nc6,Ne2,Qc7,O-O,b6,h3,Bb7,f3,cxd4,cxd4,d5,cxd5,Nxd5,e4,Nf6,Bg5,Rad8,Bxf6,gxf6,Rc1,Qd6,Bb1,Nxd4,Kh1,Nxe2,Qxe2,Qxa3,Qf2,Qa5,Qg3+,Qg5,Qc7,Ba6,f4,Qa5,Rg1,Be2,e5,f5,Qe7,Qd2,Qg5+,Kh8,Rc7,Rg8,Qf6+,Rg7,Ba2,Rg8,Rxa7,Bf3,Rxf7', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/rvAt5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rvc30', 'Rapid', 'rugan', 2094, 'Domino1958', 2355, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c4,Nf6,Nc3,e6,Bf4,Bd6,Bxd6,Qxd6,c5,Qe7,Bb5,Bd7,Bxc6,bxc6,O-O,O-O,Ne5,Rab8,Rb1,Rfc8,f3,Ne8,Re1,Nc7,Qd2,Be8,b4,f6,Nd3,h6,Nf4,g5,Nd3,Bg6,a3,Kh7,f4,gxf4,Nxf4,Bxb1,Rxb1,Rg8,Re1,Qf7,Qd3+,Kh8,Qh3,Kh7,Qd3+,Kg7,Qh3,f5,Nce2,a5,Nh5+,Kh7,bxa5,Ra8,Qh4,Rg4', 'Nf6+,Kg6,Nxg4', 'https://lichess.org/training/Rvc30');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rvD44', 'Classical', 'tchoualack', 1671, 'Chessida', 1806, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Be7,Bc4,Nf6,e5,Ng4,Bxf7+,Kxf7,Qf4+,Nf6,exf6,Bxf6,Nf3,Re8+,Be3,Kg8,c3,Kh8,O-O,Rf8,Qa4,d6,Nbd2,Bd7,Qb3,Ne5,Nxe5,Bxe5,Qxb7,Rb8,Qxa7,Rxb2,Qa3,Rb8,Nc4,Bxh2+,Kxh2,Qh4+,Kg1,Qxc4,Qc1,Qe4,Bd4,c5,Be3,Bc6,f3,Qg6,Qd1,Rb2,Bd2,Bb5,Rf2,Bd3,Qc1,Rc2,Qd1,Qg3,Be3,c4', 'Rxc2,Bxc2,Qxc2', 'https://lichess.org/training/rvD44');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RVDgX', 'Rapid', 'wanrumbuk', 2020, 'Thor210', 1916, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,d6,dxe5,dxe5,Qxd8+,Nxd8,Nxe5,Be6,Bxe6,fxe6,O-O,Nxe4,Re1,Nf6,Nc3,Bd6,Bg5,Bxe5,Rxe5,O-O,Rae1,h6,Bh4,c6,Bg3,Nd5,Ne2,Rf6,a3,b5,Nd4,Nc7,Rc5,Nd5,Nxc6,Rc8,Rxd5,Nxc6,Rd6,Nd8,Red1,Nf7,Rd7,Rxc2,Rxa7,Rxb2,Ra5,Rf5,Ra6,e5,Rb6,e4,a4,h5,a5,g5,a6,h4,a7,Ra2,Rb8+,Kg7,a8=Q,Rxa8,Rxa8,hxg3,hxg3,g4,Rb8,Kf6,Rb6+,Ke7,Rb1,Nd6,Rb4,Kd7,Rxd6+,Kxd6,Rxe4,Kc5,Rxg4,b4,Rg8,Rf6,Rc8+,Rc6,Re8,b3,f4,b2,Re1,Rb6,Rb1,Kd6,Kf2,Ke6,Kf3,Kf5,g4+,Kf6,Kg3,Kg6,Kh4,Kg7,g3,Rh6+,Kg5,Rg6+,Kf5,Kf7,g5,Rb6,Kg4,Kg6,f5+,Kg7,Kh5,Rb8,f6+,Kf7,g4', 'Rh8#', 'https://lichess.org/training/RVDgX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rvdPp', 'Blitz', 'DrQJ', 1963, 'lovechess555', 1989, 'e3,e6,b3,b6,Qf3,Ba6,Qxa8,Bxf1,Kxf1,Bd6,Qxa7,Nc6,Qa4,Qf6,Nc3,Nge7,Bb2,O-O,Nf3,Nd5,Ke2,Ncb4,Rhc1,Qg6,g3,Nxc2,Rab1,Ndb4,a3', 'Qd3+,Kd1,Qf1+,Ne1,Qxe1#', 'https://lichess.org/training/rvdPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rvfKs', 'Classical', 'byomkesh_bakshi', 1892, 'g4lois', 1797, 'd4,d5,c4,dxc4,e3,b5,Nc3,c6,Nf3,Nf6,Ne5,Bd7,b3,a5,bxc4,b4,Na4,g6,Qb3,Bg7,c5,O-O,Nb6,Ra7,Bc4,e6,f3,Nd5,Nbxd7,Nxd7,e4,Nxe5,dxe5,Bxe5,exd5,Bxa1,dxe6,Bc3+,Kf2,Kg7,exf7,Raxf7,Bxf7,Rxf7,Rd1,Qh4+,Kg1,Re7,g3,Qh3,Qc2,Qh5,Bb2,Qxc5+,Kg2,Qc4,Bxc3+,bxc3,Rd3,Re1,Kf2,Rh1,Kg2,Rc1', 'Rd7+,Kf6,Qxc1', 'https://lichess.org/training/rvfKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rVHZT', 'Classical', 'Lupy', 1869, 'jumhadi', 1861, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,h6,Be2,a6,O-O,Bd6,b3,Nc6,Bb2,Nb4,Re1,Nd5,c4,Nf4,Bf1,Qg6,Ne5,Bxe5,Rxe5', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/rVHZT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RvKgZ', 'Rapid', 'luxcifer', 1916, 'Reisedame', 1962, 'd4,Nf6,Bf4,e6,e3,b6,Nf3,Bb7,Nbd2,Be7,h3,O-O,Bd3,c5,c3,d5,Qe2,Nc6,O-O-O,c4,Bc2,b5,Ne5,b4,cxb4,Qb6,a3,a5,g4,axb4,a4,b3,Bb1,Rxa4,g5,Ne4,Nd7,Qb4,Nxe4,Rfa8,Nc3,Ra1,e4,Qa5,exd5,exd5,Qh5,g6,Qh6,Rxb1+,Nxb1,Qa1,Nf6+,Bxf6,gxf6', 'Qxb2+,Kxb2,Ra2+,Kc3,Rc2#', 'https://lichess.org/training/RvKgZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RvkS6', 'Blitz', 'FM hectorluis2019', 2415, 'TopheProvido_45', 1936, 'e4,c6,d4,d6,Nc3,Qc7,f4,e5,Nf3,Bg4,dxe5,dxe5,Bc4,b5,Bb3,b4,Ne2,Nd7,O-O,Bxf3,Rxf3,Ngf6,Ng3,Bc5+,Kh1,Ng4,Qe2,h5,h3,h4,Nf5,g6,hxg4,gxf5,exf5,O-O-O,fxe5,Nxe5,Bf4,f6,a3,Bd6,Be6+,Kb8,Rb3,h3,g3,c5,Bd5,c4,Re3,Qc5,Be4,a5,axb4,axb4,Bf3,Nxf3,Qxf3,Bxf4,Qa8+,Kc7,Ra7+,Kd6', 'Re6#', 'https://lichess.org/training/RvkS6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rVl8Y', 'Blitz', 'vladimni', 1533, 'Bigbigdog12', 1514, 'e4,c5,g3,d6,Bg2,Nf6,d4,cxd4,Qxd4,Nc6,Qd1,Bg4,Ne2,e5,O-O,Be7,Bg5,Nd4,Nbc3,O-O,Qd3,Qb6,Bxf6,Bxf6,h3,Bxe2,Nxe2,Qxb2,Rfc1,Bg5,f4,exf4,gxf4,Nxe2+,Qxe2,Bxf4,Rcb1,Qf6,Rxb7,Rfe8,Rab1,d5,Qd3,dxe4,Bxe4,Qg5+,Bg2,Be3+,Kh1,Qg3,Qd5,Rf8,Rxf7,Rxf7', 'Qxa8+,Rf8,Bd5+,Kh8,Qxf8#', 'https://lichess.org/training/rVl8Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RVLdZ', 'Rapid', 'RYATUGIN5', 1886, 'barish2', 1742, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nc6,Bb5,Bf5,Ne2,e6,Bxc6+,bxc6,O-O,Bg4,f3,Bh5,Bd2,Qf5,Ng3,Qg6,Nce2,Bd6,Bf4,Nf6,Bxd6,cxd6,Nf4,Qg5,Qd2,Bg6,Rf2,e5,Re1,Qh6,dxe5,Nd5,exd6+,Kd7,Nxd5,Qxd2,Rxd2,cxd5,Rxd5,Rhe8,Ne4,Rac8,Nc5+', 'Rxc5,Rxe8,Rxd5', 'https://lichess.org/training/RVLdZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RVLPM', 'Blitz', 'Lithiusm', 1631, 'Fernandez_Diego95', 1575, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Qd2,Nbd7,h4,e5,dxe5,dxe5,Bh6,Bxh6,Qxh6,Nc5,h5,Bg4,hxg6,fxg6,Bxg4,Rf7,Be2,Nfxe4,Nxe4,Nxe4,Bd3,Qf6,Nf3,Nd6,Ng5,Qxf2+,Kd1,Nf5,Bxf5,Rd8+,Kc1', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/RVLPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RvnG1', 'Blitz', 'Solny', 1752, 'gcr1411', 1715, 'e4,c5,d4,d6,c3,cxd4,cxd4,Nf6,Nc3,Nc6,Nf3,e6,Bg5,Be7,Qc2,O-O,Bd3,h6,Bxf6,Bxf6,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,O-O-O,Qg5+,Kb1,Qxg2,Rdg1,Qf3,Ne4,Bd7,Qd2,Bf4,Qc3,e5,Nf6+,Kh8,Nxd7,Rfd8,Nxe5,Bxe5,Qxe5,Qxd3+,Ka1,Rg8,Qh5,Qd7,Rg3,Rae8,Rhg1,Qe6,a3,a6,Rg6,fxg6,Rxg6,Qe1+,Ka2,Re5', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/RvnG1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rvoc8', 'Blitz', 'Goalkeeper29GK', 1741, 'graphtheory', 1719, 'e4,e6,Bc4,d5,exd5,exd5,Qe2+,Be7,Bb5+,Bd7,Bxd7+,Nxd7,d4,Ngf6,Nf3,h6,Nc3,O-O,Be3,Bb4,Qd2,Re8,O-O,Ne4,Qd3,f5,Nxe4,fxe4,Qb3,exf3,Qxb4,fxg2,Rfe1,b6,Qb3,Nf6,Bd2,Qd6,Rxe8+,Rxe8,Bb4,Qf4,Re1,Rxe1+,Bxe1,Ng4,Qxd5+,Kh7,Qxg2,Qxd4,Bc3,Qd1+,Qf1,Qxc2,Qg2,Qg6,Qg3,h5,Qxc7', 'Ne3+,Qg3,Qb1+,Be1,Qxe1#', 'https://lichess.org/training/rvoc8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rVouk', 'Rapid', 'capablancazz', 1943, 'Mao893', 1927, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,Ng5,Be6,Nxe6,fxe6,O-O,Bd6,Nc3,O-O,Nxd5,exd5,Bxd5+,Kh8,Be4,Qf6,Be3,Nd4,c3,Nf5,b4,Nxe3,fxe3,Qg5,Qe2,c6,a4,Rxf1+,Rxf1,Rf8,Rxf8+,Bxf8,Qf3,Qf6,Qxf6,gxf6,b5,cxb5,axb5,b6,d4,Bh6,Kf2,exd4,exd4,Bd2,c4,Bc3,d5,Be5,Kf3,Bxh2', 'g3,Bg1,d6,Bc5,d7', 'https://lichess.org/training/rVouk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RvPd3', 'Rapid', 'benstace4', 1975, 'rapid_boy_1', 2034, 'd4,d6,Nf3,Nf6,Bf4,g6,Nc3,Bg7,e4,O-O,Qd2,h5,Bh6,Ng4,Bxg7,Kxg7,h3,Nf6,g4,hxg4,hxg4,Nxg4,O-O-O,Rh8,Rxh8,Qxh8,Bd3,Nc6,a3,e5,dxe5,Ncxe5,Nxe5,Nxe5,f4,Nd7,Bc4,Nf6,e5,dxe5,fxe5,Ng4,Qd4,Qf8,Rf1,c5,Qf4,Bf5,Be2,Nh6,Rh1,Qh8,Nd5,Re8,Ne3,Be6,Qf6+,Kh7,Qxh8+,Rxh8,Bg4,Bxg4,Nxg4,Kg7,Nf6,Ng8', 'Ne8+,Kf8,Rxh8', 'https://lichess.org/training/RvPd3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RVprv', 'Rapid', 'I_am_Patrick', 1692, 'Phosphorus', 1660, 'd4,d5,c4,c6,Nf3,Bg4,e3,Nf6,Be2,Bxf3,Bxf3,e6,a4,dxc4,O-O,Bd6,Qc2,O-O,Qxc4,Nbd7,b3,Nd5,Bb2,N7f6,Nd2,Re8,e4,Nb6,Qc1,e5,Nc4,Nxc4,Qxc4,exd4,Bxd4,Qc7,g3,Nxe4,Bxe4,Rxe4,Rfe1,Rae8,Qc3,Rxe1+,Rxe1,Rxe1+,Qxe1,a6', 'Qe8+,Bf8,Bc5', 'https://lichess.org/training/RVprv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rvpTV', 'Classical', 'Perche', 1867, 'zboro80', 1905, 'Nf3,d5,c4,d4,b4,Bg4,Bb2,Bxf3,exf3,e5,d3,Bxb4+,Nd2,Nf6,Qa4+,Nc6,a3,Bxd2+,Kxd2,O-O,h4,Nh5,Bc1,f5,Rb1,e4,Be2,e3+,fxe3,dxe3+,Kxe3,Re8+,Kf2,Nd4,Bd1,Nf4,Bxf4,b6,Be3,c5,Rf1', 'Qxh4+,Kg1,Rxe3', 'https://lichess.org/training/rvpTV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RvQ82', 'Rapid', 'mahan13', 1688, 'simonpallevente', 1616, 'd4,d5,c4,e6,Nc3,c6,Bf4,Nd7,e3,Ngf6,cxd5,Nxd5,Nxd5,cxd5,a3,Qa5+,b4,Qc7,Bd3,e5,dxe5,Nxe5,Nf3,Nxf3+,Qxf3', 'Qc3+,Ke2,Qb2+', 'https://lichess.org/training/RvQ82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RVrVw', 'Rapid', 'Ahmadmarz', 2073, 'belich', 2178, 'c4,Nf6,d4,g6,Nf3,d5,g3,Bg7,Bg2,O-O,Nbd2,b6,O-O,Bb7,b3,e6,Bb2,Nbd7,Rc1,Rc8,Ne5,c5,e3,Re8,h3,Qe7,Re1,Red8,Qe2,Ne8,Ndf3,Nd6,Nxd7,Rxd7,Ne5,Rdd8,Ba3,f6,Nd3,dxc4,bxc4,Bxg2,Kxg2,Qb7+,Kg1,Qa6,dxc5,Qxa3,cxd6,Rxd6,Red1,Rcd8,Nf4,Kf7,Rxd6', 'Qxc1+,Kg2,Rxd6', 'https://lichess.org/training/RVrVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RVRWG', 'Rapid', 'J3rry', 1829, 'premdumka', 1824, 'b4,a5,bxa5,Rxa5,Bb2,f6,Nc3,e5,e3,d5,Nge2,Be6,f4,d4,exd4,exd4,Ne4,Qd5,N2g3,Rxa2,Rxa2,Qxa2,Bxd4,Qd5,Nc3,Qxd4,Bb5+,c6,Qe2,cxb5,Qxe6+,Ne7,Nxb5,Qd7,Qxd7+,Nxd7', 'Nd6+,Kd8,Nf7+', 'https://lichess.org/training/RVRWG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RVSBI', 'Classical', 'IvanChess07', 1695, 'drone_strike', 1610, 'd4,e5,e3,e4,c4,f5,f3,Nf6,fxe4,fxe4,Nc3,d5,Nxd5,Nxd5,Qh5+,Ke7,cxd5,Qd6,Qe5+,Kd8,Qxe4,Be7,Bd2,Rf8,Nf3,Bf5,Qe5,Qb6,b3,Bc2,Qxg7,Qd6,Qe5,Qg6,Rc1,Nd7,Qe6,Rxf3,gxf3', 'Bh4+,Ke2,Qd3#', 'https://lichess.org/training/RVSBI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rvtBw', 'Rapid', 'Vanuatuboy1213', 1737, 'lucky_21', 1714, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,Bd3,Bg4,Nbd2,Bd6,Bg3,Bxg3,hxg3,Nc6,c3,Na5,Qc2,g6,Ne5,Bf5,Bxf5,exf5,Qa4+,Nc6,Nxc6,bxc6,Qxc6+,Nd7,Qxd5,Rb8,b4,Nb6,Qe5+,Kd7,g4,f6,Qb5+,c6,Qe2,Nd5,Rc1,f4,e4,Ne7,Nc4,f5,gxf5,gxf5,e5,Nd5,f3,h5,Nd6,Qe7,a4,Ne3,Nc4,Nd5,Nd6,Ne3,Rh2,h4,Nc4,Nd5,Qd3,Qg5,Qe2', 'Qg3+,Kd2,Qxh2', 'https://lichess.org/training/rvtBw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RVU0x', 'Blitz', 'szondi', 1537, 'Burak2014', 1557, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,Nc3,c6,Bg5,f6,Bh4,Nh6,h3,cxd5,Nxd5,Nc6,Bb5,Bd7,O-O,Be7,Qd2,O-O,c4,a6,Bxc6,Bxc6,b3,Bxd5,Qxd5+,Kh8,Qxb7,Rf7,Qd5,f5,Bxe7,Rxe7,exf5,Nxf5,Rad1,Rc8,Ng5,h6,Nf7+,Rxf7,Qxf7,Nh4,Qe6,Qg5,g3,Nf3+,Kh1,Rg8,Qxd6,Qh5,Kg2,Ng5,Qxe5', 'Qxh3+,Kg1,Nf3#', 'https://lichess.org/training/RVU0x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rVYlA', 'Rapid', 'VasaFlow', 1805, 'mathijshuis', 1800, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,e5,Nf5,Bxf5,exf5,Nc6,O-O,Be7,c3,Qd7,Qb3,Rb8,Rd1,O-O,Bb5,Qxf5,Bxc6,bxc6,Qa4,Rfd8,Qxa7,Ng4,Rf1,Qh5,h3,Nf6,Qxe7,Rd7,Qxd7,Nxd7,Nd2,f6,Nb3,Qf7,Na5,c5,b3,d5,a4,d4,cxd4,cxd4,Bd2,Nc5,b4,Nb7,Nc6,Rc8,b5,Nd8,Rfc1,Nxc6,Rxc6,Rxc6', 'bxc6,Qc7,Rc1', 'https://lichess.org/training/rVYlA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RvyX8', 'Blitz', 'FM Banelevich', 2519, 'IM Klimenko_Sergey_IM', 2453, 'd4,c5,d5,e5,Nc3,d6,e4,Be7,Be2,Bg5,Nf3,Bxc1,Qxc1,Ne7,Nd2,O-O,Nc4,f5,exf5,Bxf5,O-O,Ng6,g3,Qe7,Nb5,Rf6,a4,Nd7,f3,Nb6,Ne3,Bh3,Rf2,a6,Nc3,a5,Ne4,Rf7,Qd2,Bd7,b3,h6,Bd3,Nf8,Raf1,Nh7,Kg2,Nf6,Nc3,Raf8,Bg6,Nh7,Bxf7+,Rxf7,f4,e4,Re1,Nf6,h3,h5,Nc4,Nxc4,bxc4,Bf5,Qe3,Qd7,Rh1,Re7,Rff1,Qe8,Rb1,Qg6,Rb6,Qe8,Rxd6,Qc8,Rb6,Qd8,Rb5,b6,Rhb1,Qd7,Rh1,Qd6,Rbb1,Nd7,Nb5,Qg6,Kh2,Qf6,Rhg1,g6,g4,hxg4,hxg4,Qh4+,Qh3,Qf2+,Kh1', 'Rh7,Qxh7+,Kxh7', 'https://lichess.org/training/RvyX8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rvyXN', 'Classical', 'Murgatroide', 1933, 'bhirghu', 1989, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Nd5,c4,Ne7,Bd3,g6,O-O,Bg7,f4,d6,Qe2,O-O,Nc3,d5,Bd2,Rb8,b3,h5,Rad1,Bg4,Qf2,Bxd1,Rxd1,Qd7,Qxa7,d4,Ne4,Ra8,Qc5,Rxa2,Bb4,Qg4,Rd2,Ra1+,Bf1,Nf5', 'Nf6+,Kh8,Nxg4', 'https://lichess.org/training/rvyXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RvZip', 'Blitz', 'lucacarriere', 1929, 'JairoM', 1921, 'd4,Nf6,c3,c6,Bf4,e6,e3,d5,Nf3,Bd6,Bxd6,Qxd6,Bd3,b6,O-O,Ba6,Bxa6,Nxa6,Qe2,Nc7,Re1,O-O,Nbd2,Ne4,Nxe4,dxe4,Ne5,b5,Rad1,f5,c4,a6,b3,Rac8,g3,Rf6,f3,Rcf8,f4,Na8,cxb5,cxb5,Rc1,Nc7,Rc6,Qe7,Rec1,Nd5,Rxa6,Rh6,Qxb5,Nxe3,Qe2,Nd5,Rac6,g5,a4,gxf4,gxf4,Nxf4,Qf2,Nh3+,Kh1,Nxf2+,Kg2,Qh4,Rg1,Qxh2+,Kf1+,Kh8', 'Nf7+,Rxf7,Rc8+,Rf8,Rxf8#', 'https://lichess.org/training/RvZip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rW0pu', 'Rapid', 'Chezz_2021', 1798, 'zelass', 1844, 'g3,e5,Bg2,d5,d3,c5,c3,Nc6,Nf3,Nf6,O-O,Bd6,Bg5,Bc7,Nbd2,h6,Bxf6,Qxf6,e4,Qd8,exd5,Qxd5,Ne4,Bg4,Qa4,f5,Nxe5,Bxe5', 'Nf6+,gxf6,Bxd5', 'https://lichess.org/training/rW0pu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RW13R', 'Rapid', 'checkmatefools', 1763, 'miriamG', 1672, 'e4,e6,Nf3,Nf6,Nc3,d5,e5,Ng8,d4,c5,Bb5+,Bd7,Qd3,Nc6,Be3,cxd4,Bxd4,a6,Bxc6,Bxc6,O-O-O,g6,Qe3,Bh6,Ng5,Bxg5,f4,Bh6,g4,Bg7,Bb6,Qh4,h3,Ne7,Qd2,f5,Bf2,Qh6,g5,Qh5,Ne2,Qf3,Nd4,Qe4,Rde1,Qg2,Rhg1,Qxh3,Rh1,Qg2,Reg1,Qe4,Nxe6,Kf7,Re1,Qa4,Nc5,Qb5,Rh3,Qb6,Bd4,Qc7,e6+,Kf8,Bxg7+,Kxg7,Qd4+,Kg8,Reh1,Re8,Qxh8+,Kxh8', 'Rxh7+,Kg8,Rh8+,Kg7,R1h7#', 'https://lichess.org/training/RW13R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rW1gO', 'Blitz', 'allykurt', 1751, 'Muhammed5563', 1725, 'e3,d5,d4,Nc6,c4,dxc4,Bxc4,Nf6,Qb3,e6,Bb5,Bd7,Nc3,a6,Bd3,Bd6,Nf3,O-O,O-O,Na5,Qc2,Bc6,Bd2,Bxf3,gxf3,Nd5,Nxd5,Qg5+,Kh1,exd5,Bxa5,Rfe8,Rg1,Qh4,Rg2,Re6,Rag1,Rh6,Rxg7+,Kf8,Rg8+,Ke7,R8g2', 'Qxh2+,Rxh2,Rxh2#', 'https://lichess.org/training/rW1gO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rW1hm', 'Rapid', 'steram90', 1696, 'Yveu_68380', 1689, 'Nf3,a6,Nc3,d6,d3,Bg4,h3,Bxf3,exf3,Nf6,Bg5,Nfd7,Qe2,h6,Bd2,Nc6,a3,Nd4,Qd1,Ne5,Be3,Ndc6,d4,Nd7,d5,Nce5,f4,Ng6,g3,Nc5,Bxc5,dxc5,Bd3,Qd6,Bxg6,Qxg6,Qd3,Qxd3,cxd3,Kd7,O-O-O,Rd8,Ne4,b6,d4,c4,Nd2,Kd6,Nxc4+,Kxd5,Ne3+,Ke4,Nc2,e6,Nb4,Bxb4,axb4,Rxd4', 'Rhe1+,Kf3,Rxd4', 'https://lichess.org/training/rW1hm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rw1mj', 'Rapid', 'justkilledaman', 2036, 'chilly_penguin09', 2138, 'd4,Nf6,c4,e6,e3,b6,Nf3,Ba6,Nc3,Bb4,Bd3,c5,O-O,Bxc3,bxc3,Qc7,dxc5,bxc5,e4,d6,Re1,Nbd7,Bf4,e5,Be3,O-O,g3,Nb6,Bg5,Nfd7,Nh4,f6,Be3,Bxc4', 'Bxc4+,Nxc4,Qd5+,Kh8,Qxc4', 'https://lichess.org/training/rw1mj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rW3Hf', 'Blitz', 'kirlianitalian', 2537, 'FM Palachev_Petr', 2512, 'Nf3,d6,d4,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,b3,e5,dxe5,Ng4,Bb2,Nc6,Nc3,Ngxe5,Nxe5,Nxe5,Qd2,Rb8,Rae1,f5,f4,Nf7,Nd1,Bxb2,Nxb2,Qf6,c4,Re8,e4,fxe4,Bxe4,Bh3,Bg2,Bxg2,Kxg2,c6,Nd1,h5,Nf2,Rbd8,Ne4,Qf5,Qd4,Re6,Nf2,b6,Rxe6,Qxe6,Ne4,c5,Qd3,Re8,Nc3,Nh6,Rf2,Nf5,Re2,Qf7,Nd5,Re6,Re4,Kf8,Qe2,Nd4,Qe3,Qf5,Rxe6,Nxe6,h3,Kf7,Qe2,Nd4', 'Qe7+,Kg8,Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/rW3Hf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RW3Zz', 'Rapid', 'DGriffin', 1716, 'z3pJHJDaN', 1752, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,Bc5,O-O,h6,Nf3,e4,Ne5,Qd6,Nc4,Nxc4,Bxc4,Ng4,g3,h5,Nc3,f5,d3,Qd4,dxe4,Qxc4,exf5,h4,Re1+,Kf7,Bf4,hxg3,hxg3,Bxf2+,Kg2,Bxe1,Qxg4,Bxc3,Qg6+,Kg8,Qe8+,Kh7,Qh5+,Kg8', 'Qe8+,Kh7,Rh1#', 'https://lichess.org/training/RW3Zz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rw4U2', 'Rapid', 'Juanfran_2013', 1834, 'Shadyasal', 1924, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Qd1,g6,O-O,Bg7,c3,Nf6,Bd3,O-O,Nbd2,a6,Re1,b5,Nf1,Rc8,Bf4,e5,Bg5,h6,Bh4,g5,Bg3,Nh5,Re3,Nf4,Bc2,Na5,Bxf4,exf4,Rd3,Be5,Nxe5,dxe5,Rxd7,Qb6,Rd6,Rc6,Rd5,Nc4,Qh5,Nxb2,Rxe5,Nc4,Rd5,Na3,Bd3,Rxc3,Rd1,Nc2,Nd2,Nb4,Nf3,Nxd3,R5xd3,Rc2,Nd4,Rxa2,h3,Rd8,R3d2', 'Rxd2,Rxd2,Rxd4,Rxd4,Qxd4', 'https://lichess.org/training/Rw4U2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rw5ib', 'Rapid', 'DeybiW_CatA_IELAH', 1643, 'sheldon_U10', 1705, 'e4,e6,Qf3,d5,exd5,Qxd5,Nc3,Qd8,Bb5+,c6,Ba4,Nf6,d3,Bb4,a3,Bxc3+,bxc3,O-O,c4', 'Qa5+,Kf1,Qxa4', 'https://lichess.org/training/rw5ib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rW6lu', 'Rapid', 'Antinomial0616', 1661, 'joseppay1941', 1640, 'g3,Nf6,Bg2,d5,d3,e6,a3,Be7,b4,O-O,Nd2,Bd7,c4,c6,Ngf3,dxc4,dxc4,c5,O-O,cxb4,Ne5,Nc6,Ndf3,Rc8,Bb2,Nxe5,Nxe5,Be8,axb4,Qxd1,Rfxd1,Bxb4,Bxb7,Rc7,Rxa7', 'Bc5,Ra2,Rxb7', 'https://lichess.org/training/rW6lu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rwAkr', 'Blitz', 'Wahyudii_KabBogor', 2116, 'Matrudi', 2079, 'e4,e5,Nf3,d6,Bc4,c5,Nc3,Be7,O-O,Bg4,d3,Nc6,h3,Bh5,Nd5,Nd4,g4,Nxf3+,Qxf3,Bg6,c3,a6,Kg2,b5,Bb3,Nf6,g5,Nh5,h4,O-O,Be3,Kh8,Qg4,f5,exf5,Rxf5,Bc2,Rf8,f4,exf4,Nxf4,Nxf4+,Bxf4,Ra7,h5,Bf5,Qg3,Qa8+,Kh2,Rd7,h6,gxh6,gxh6,Rg8', 'Be5+,dxe5,Qxe5+,Bf6,Qxf6+', 'https://lichess.org/training/rwAkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rWbfh', 'Rapid', 'alekc001', 1765, 'Koctik1986', 1728, 'e4,c6,Nf3,d5,exd5,cxd5,c4,Bg4,cxd5,Qxd5,Qa4+,Bd7,Qb4,e5,Bc4', 'Qe4+,Kf1,Bxb4', 'https://lichess.org/training/rWbfh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rwckU', 'Classical', 'aandreyev', 2133, 'FISHER2021', 2051, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Nxe5,Rxe5+,Be7,Bf1,O-O,d4,Bf6,Re1,Re8,c3,Rxe1,Qxe1,Ne8,Bf4,d5,Nd2,c6,Nf3,Bf5,Qd2,Nd6,Re1,Ne4,Qc1,Bh4,Nxh4,Qxh4,f3,Nf6,Bg5,Qh5,g4,Bxg4,Bxf6,Bxf3,Qg5,Qxg5+,Bxg5,f6,Bd2,Be4,Bg2,f5,Bxe4,fxe4,c4,h6,cxd5,cxd5,Rc1,Rf8,Rc7,Rf7,Rxf7,Kxf7,Kf2,Kg6,Ke3,Kf5,h3,Kg6,Kf4,Kf6,h4,Ke6,h5,Kf6,Kg4,Ke6,Bf4,b5,Be5,Kf7,Kf5,e3,Bg3,e2,Ke5,g6,hxg6+,Kxg6,Kxd5,Kf5,Kc6,h5,d5,Kg4,Be1', 'h4,d6,h3,d7,h2,d8=Q,h1=Q+', 'https://lichess.org/training/rwckU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RwEq1', 'Blitz', 'xNinjo', 2160, 'Romio30', 2115, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,dxe5,fxe5,c5,d5,Bf5,Be3,e6,Nc3,exd5,cxd5,N8d7,Nf3,Bg4,Bb5,a6,Bxd7+,Nxd7,Bf4,b5,O-O,c4,Ne4,Qb6+,Kh1,Bc5,h3,Bxf3,Qxf3,O-O,Qg4,f5,exf6,Nxf6,Nxf6+,Rxf6,Bc7', 'Rxf1+,Rxf1,Qxc7,Qe6+,Kh8', 'https://lichess.org/training/RwEq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RWeYJ', 'Classical', 'rawan_kl', 1648, 'tuhama', 1770, 'e4,e6,d4,d5,e5,c5,c3,c4,Nf3,Nc6,a3,b5,b4,a5,Bb2,axb4,axb4,Rxa1,Bxa1,Nge7,Na3,Na7,Bb2,Nec6,Be2,Be7,h3,O-O,O-O,f6,Nc2,fxe5,dxe5,Qc7,Ncd4,Nxe5,Nxe5,Qxe5,Bc1,Bd7,f4,Qf6,Bg4,e5,fxe5,Bxg4,exf6,Bxd1,fxe7,Rxf1+,Kxf1,Bh5,g4,Be8,Ne6,Nc6,Bg5,h6,Bh4,g5,Nxg5', 'hxg5', 'https://lichess.org/training/RWeYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RwFs9', 'Blitz', 'bmaas', 1610, 'uneven', 1757, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nge7,d4,exd4,cxd4,Bb4+,Bd2,d5,Bxb4,Nxb4,a3,Nbc6,exd5,Nxd5,O-O,Be6,Ng5,O-O,Nxe6,fxe6,Re1,Nf4,Bxe6+,Nxe6,Rxe6,Nxd4,Re4,c5,Nc3,Qf6,Qd2,Kh8,Rae1,b6,Nd5,Qc6,Ne7,Qb5,Qg5,Qe8,Qh4,Qf7', 'Qxh7+,Kxh7,Rh4+,Qh5,Rxh5#', 'https://lichess.org/training/RwFs9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rwgi5', 'Rapid', 'kot55', 1895, 'SRPM', 1838, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,d4,Nbd7,Nf3,e6,O-O,Bd6,Bg5,a6,h3,Qc7,c3,b5,a3,Bb7,Qd3,Rc8,Nbd2,O-O,Rfe1,Rfe8,Bc2,h6,Bxf6,Nxf6,Ne5,Ne4,Nxe4,dxe4,Qe3,f5,f4,exf3,Nxf3,Bd5,Ne5,Rf8,g3,Rce8,Qd3,Qe7,Ng6,Qg5,Nxf8,Rxf8,Re5,f4,g4,Bxe5,dxe5,Qh4', 'Qh7+,Kf7,Bg6+,Ke7,Qxg7+,Kd8,Qxf8+', 'https://lichess.org/training/Rwgi5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RWGtf', 'Blitz', 'Jony2712u', 1975, 'IM lovlas', 2477, 'e4,e6,Qf3,d5,d3,Nc6,c3,Nf6,h3,Bc5,Bf4,h6,Ne2,O-O,Ng3,e5,Bc1,dxe4,dxe4,Be6,Be2,Ne7,Bxh6,Ng6,Bg5,Be7,Nf5,Bxf5,Qxf5,Nh7,Bxe7,Qxe7,O-O,Ng5,Na3,Nf4,Bc4,g6,Qg4,Nxe4,g3,Nf6,Qg5', 'Nxh3+,Kg2,Nxg5', 'https://lichess.org/training/RWGtf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rwh5f', 'Rapid', 'ARAR37', 1902, 'efeequis', 1879, 'Nf3,d5,d4,c6,Nc3,Bf5,Bf4,a6,a3,e6,e3,c5,Bd3,Bxd3,cxd3,b5,dxc5,Bxc5,d4,Be7,b4,Nf6,O-O,O-O,Qd3,Nbd7,Ne5,Qb6,Nxd7,Nxd7,Rac1,Rfc8,Ne2,Qb7,Rc3,Rxc3,Nxc3,Rc8,Rd1,Nb6,Qe2,Nc4,Qa2,Nxe3,Rc1,Nc4,g3,Bf6,Be3,Qb6,Rd1,h6,Ne2,Nd6,Qd2,Nc4,Qc3,Rc6,Rc1,Ne5', 'dxe5,Rxc3,Bxb6,Rxc1+,Nxc1', 'https://lichess.org/training/Rwh5f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RwIen', 'Blitz', 'Dr-geography-34', 1898, 'longlongneck', 1817, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,d4,Nxe4,Nxc6,dxc6,Bd3,Qxd4,O-O,Be6,Bxe4,Qxe4,Re1,Qg6,Nc3,Bd6,Ne4,O-O-O,Nxd6+,Rxd6,Qf3,Bd5,Qh3+,Be6,Qf3,h5,Bf4,Bd5,Qh3+,Re6,Rxe6,Bxe6,Qf3,h4,h3,Qxc2,Rc1,Qxb2,a4,Qb4,a5,Qxa5,Rd1,f6,Qd3,g5,Be3,g4,Qg6,gxh3,Qxf6,Re8,Qg6,Bd7,Bg5,Qa4', 'Qxe8+,Bxe8,Rd8#', 'https://lichess.org/training/RwIen');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rwime', 'Rapid', 'skuter71', 1834, 'Andrei788', 1821, 'e4,c5,Bc4,d6,Nc3,Nf6,d3,g6,Bg5,Bg7,Nf3,O-O,O-O,Nc6,a3,Bg4,h3,Bxf3,Qxf3,Ne5,Qe2,Nxc4,dxc4,h6,Bh4,Nd7,Nd1,Ne5,c3,g5,Bg3,a6,Ne3,e6,Rad1,Qe7,Ng4,Rad8,Nxe5,Bxe5,Bxe5,dxe5,Qe3,f5,exf5,exf5,Rd5,Rxd5,cxd5,e4,c4,f4,Qc3,Re8,Re1,b6,Qc2,Qe5,f3,Qd4+,Kh2,b5,Rxe4,Rxe4,fxe4,bxc4,e5,Qd3,Qa4,Qg3+,Kg1,Qe1+,Kh2,Qxe5,Qxc4', 'f3+,Kg1,Qe1+', 'https://lichess.org/training/rwime');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rwIP9', 'Blitz', 'pap1969meta', 1807, 'Vipos964', 1849, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,Bf5,Bd3,Bxd3,Qxd3,dxe5,fxe5,e6,Nc3,Nc6,Nf3,Nb4,Qe2,c5,a3,Nc6,d5,exd5,cxd5,Nxd5,Nxd5,Qxd5,O-O,Be7,Bg5,O-O,Rad1,Qe6,Bxe7,Qxe7,Qb5,Nxe5,Nxe5,Qxe5,Qxb7,Qe3+,Kh1,Rab8,Qxa7,Rxb2', 'Qxf7+,Rxf7,Rd8+,Qe8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/rwIP9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RwjNe', 'Rapid', 'sjakkgal', 2044, 'Musibala', 2137, 'd4,Nf6,c4,g6,Bg5,d6,Nc3,Bg7,Nf3,O-O,e4,c5,dxc5,Qa5,cxd6,exd6,Bxf6,Bxf6,Qc2,Nc6,a3,Bg4,b4', 'Nxb4,axb4,Qxa1+', 'https://lichess.org/training/RwjNe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RwJRh', 'Rapid', 'savkee', 1877, 'VugarKaramli', 1838, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,d5,exd5,exd5,Bb5,Nf6,O-O,Bd7,Re1+,Be7,Nc3,O-O,Nxc6,bxc6,Bd3,Bd6,Bg5,h6,Bh4,g5,Bg3,Bxg3,hxg3,Re8,Na4,Bg4,f3,Bd7,Nc5,Nh5,g4,Nf4,Nxd7,Nxd3', 'Rxe8+,Qxe8,Nf6+', 'https://lichess.org/training/RwJRh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RWKkp', 'Rapid', 'Andi_suhandi', 1865, 'thanvran', 1843, 'e4,c5,Bc4,e6,c3,d5,exd5,exd5,Be2,Nf6,Nf3,Be7,O-O,O-O,d4,cxd4,Nxd4,Nc6,Nf3,Re8,Be3,b6,Nbd2,Bc5,Bg5,h6,Bh4,Qd6,b4,Nxb4,cxb4,Bxb4,Nd4,Qf4,N4f3,Bxd2,Bxf6,Bb4,Bd4,Bd6,Be3,Qf6,Qxd5,Bf5,Rad1,Rad8,Qb7,Be4,Qxa7,Ra8,Qd7,Red8,Qg4,Bf5,Qc4,Be6,Qc6,Bxa2,Ra1', 'Bxh2+,Nxh2,Qxc6', 'https://lichess.org/training/RWKkp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rwLh4', 'Rapid', 'Yunem', 1633, 'mush_gm', 1652, 'g3,d5,Bg2,Bf5,d3,e6,Nc3,Bd6,e4,dxe4,Nxe4,Nf6,Nxd6+,Qxd6,Bxb7', 'Qb4+,Kf1,Qxb7', 'https://lichess.org/training/rwLh4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rWM8T', 'Blitz', 'Oditsap', 1956, 'Tonaeop', 1908, 'e4,e5,Nc3,Nf6,f4,exf4,Nf3,d6,d4,Nc6,Bc4,Bg4,Bxf4,Bxf3,gxf3,Be7,Rg1,g6,Qd2,Nh5,Bh6,Bh4+,Ke2,Bf6,d5,Nd4+,Kd1,Nxf3,Qf2,Nxg1,Qxg1,Qe7,Bb5+,Kd8,Kd2,a6,Bd3,Kd7,Re1,Rae8,b4,Kc8,b5,axb5,Nxb5,b6,Na7+,Kb7,Nc6,Qd7,Bb5,Qh3,Re3,Qh4,Na5+,bxa5,Bc6+,Kb8,Rb3+,Kc8,Rb8+,Kxb8,Qb1+,Kc8', 'Qb7+,Kd8,Qb8+,Ke7,Qxc7#', 'https://lichess.org/training/rWM8T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rwN7Q', 'Rapid', 'DireSoul1792', 1723, 'YoYoPa', 1798, 'e4,c5,Nc3,Nc6,Nf3,e5,Bc4,h6,d3,Nf6,Nd5,d6,Nxf6+,Qxf6,Be3,Be6,Bxe6,Qxe6,c3,Be7,g3,Qf6,Nd2,a5,Nc4,b5,Nb6,Rb8,Nd5,Qg6,b3,O-O,f3,Bg5,g4,Bxe3,Nxe3,Qg5,Nd5,Ne7', 'h4,Nxd5,hxg5', 'https://lichess.org/training/rwN7Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RWnUG', 'Classical', 'newagear', 1840, 'moving_leapord', 1820, 'e4,Nc6,Nf3,e5,Bc4,Be7,c3,d6,d4,exd4,cxd4,Nf6,Nc3,O-O,O-O,Bg4,h3,Bxf3,gxf3,a6,Kh2,b5,Bb3,Na5,Bc2,c5,d5,Nc4,Rg1,Kh8,a4,Nh5,b3,Ne5,f4,Nxf4,Bxf4,Bf6,axb5,Ng6,Bd2,Be5+,Kh1,Qh4,Kg2,Bxc3,Bxc3,Nf4+,Kf1', 'Qxh3+,Ke1,Qxc3+', 'https://lichess.org/training/RWnUG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rWNXV', 'Rapid', 'bratancb', 2037, 'neaz', 1909, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,g6,Be3,Bg7,Qd2,Nc6,f3,Nxd4,Bxd4,O-O,g4,b5,O-O-O,b4,Nd5,Nxd5,exd5,Qa5,Kb1,Qxd5,Qxb4,Be6,c4,Qc6,Bxg7,Kxg7,h4,Rfb8,Qc3+,f6,g5,Bf5+,Ka1,e5,gxf6+,Kxf6,Qd2,Rd8,Qg5+,Ke6,h5,Rab8,hxg6,hxg6,f4,Qb7,b3,Qe4,fxe5', 'Qxe5+,Rd4,Qxd4#', 'https://lichess.org/training/rWNXV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RwoaJ', 'Rapid', 'matanman', 2218, 'DanielGarciaTZM', 2283, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,f3,Nc6,Be3,Na5,Be2,Qc7,a3,Nc4,Bc1,b6,b3,Ne5,Ncb5,Qd7,c4,Nc6,Be3,a6,Nxc6,Qxc6,Nd4,Qc7,Rc1,Bb7,Qe1,Nd7,Qf2,Nc5,b4,Nd7,Nb3,a5,bxa5,bxa5,c5,dxc5,Nxc5,Nxc5,Rxc5,Qd6,Rfc1,Rfc8,a4,Rxc5,Bxc5,Qc6,Bb5,Qc7,Qe3,Rc8,Ba3,Qd8,Rxc8,Bxc8,Qe2', 'Qd4+,Kf1,Qa1+,Qe1,Qxa3', 'https://lichess.org/training/RwoaJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rWPjL', 'Rapid', 'younishd', 1829, 'Doubleforward', 1993, 'c4,Nf6,Nc3,c5,g3,g6,Bg2,Bg7,Nf3,O-O,Rb1,d5,cxd5,Nxd5,d3,Nxc3,bxc3,Bxc3+,Bd2,Bg7,O-O,Nc6,a3,Rb8,Qa4,Bd7,Qc4,b6,Bc3,Be6,Qe4,Bxc3,Qxc6,Bd5,Qa4,Ba5,Rfd1,Qe8,Qh4,e5', 'Ng5,h5,Bxd5', 'https://lichess.org/training/rWPjL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RWQ1x', 'Rapid', 'KRRU', 2103, 'Apprentice2020', 2156, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,c5,c4,Nc6,Ne5,cxd4,Nxc6,bxc6,exd4,Bd6,Bxd6,Qxd6,c5,Qc7,Nd2,Rb8,Qc2,e5,Be2,O-O,O-O,e4,Rfe1,Ng4,Bxg4,Bxg4,f3,exf3,gxf3,Bh3,Re5,g6,Rae1,f6,R5e3,Qf4,Nb3,Qg5+,Kh1,Qh4,Qd2,g5,Na5,Bd7,b4,Rfe8,Rxe8+,Rxe8,Rxe8+,Bxe8,Nb7,Qh3,Qe2', 'Bh5,Kg1,Bxf3', 'https://lichess.org/training/RWQ1x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rwRpI', 'Blitz', 'Ardy00', 1599, 'Birdmoon', 1606, 'd4,Nf6,c4,g6,Bg5,Bg7,Nc3,O-O,e4,d6,Nf3,Na6,Bd3,c5,d5,Nc7,a3,a6,Qd2,Re8,Rc1,Bd7,O-O,Rb8,Bh6,Bh8,h3,b5,b3,e6,Bg5,exd5,exd5,Qc8,Bxf6,Bxf6,Ne4,Be7,Rfe1,Bf5,Nfg5,Qd8,Qf4,Bxe4', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/rwRpI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RWrTk', 'Rapid', 'lerneryd', 1923, 'Rolle57', 1708, 'e4,e5,Nf3,Nf6,Bc4,Nc6,d4,exd4,c3,dxc3,e5,Ne4,Bxf7+,Kxf7,Qd5+,Ke8,Qxe4,d5,Qd3,d4,O-O,Be7,Re1,Bg4,Qb5,Bxf3,gxf3,c2,Qxb7,cxb1=Q', 'Qxc6+,Kf8,Rxb1', 'https://lichess.org/training/RWrTk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RwRY5', 'Classical', 'Ethan_15', 2076, 'pawitto', 1934, 'e4,e5,Nc3,d6,f4,Nc6,Nf3,Nf6,Bb5,Bg4,O-O,Be7,Qe1,O-O,Bxc6,bxc6,fxe5,dxe5,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/RwRY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rwsFg', 'Rapid', 'Make_a_Blunder', 1754, 'Caiqueff', 1689, 'e4,c5,Nc3,d6,Bb5+,Bd7,Qe2,Nf6,Nf3,e5,d3,a6,Ba4,b5,Bb3,h6,Nd5,Be7,O-O,Nc6,a3,O-O,Be3,Bg4,h3,Nxd5,Bxd5,Bxf3,Qxf3,Rc8,Qg4,Bg5,f4,exf4,Bxf4,Nd4,Bxg5,hxg5,Rf2,Rc7,Raf1,c4,Qh5,Qe8,Qxg5,cxd3,cxd3,Rc2,h4,Ne2+,Kh1,Nd4,h5,Rxf2,Rxf2,Qe5,Bxf7+', 'Rxf7,Qd8+,Kh7,Rxf7,Qxh5+,Kg1,Qxf7', 'https://lichess.org/training/rwsFg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RWSLo', 'Rapid', 'Brochieri', 1905, 'you_know_nothing', 1941, 'e4,c5,Nf3,d6,h3,Nf6,c3,h6,Be2,e5,O-O,Nc6,d3,Be7,Be3,O-O,Nbd2,Be6,a3,Qc7,Rc1,d5,exd5,Nxd5,c4,Nxe3,fxe3,Rad8,Ne4,Bf5,Qc2,Bg6,Kh1,f5,Nc3,e4,dxe4,fxe4,Nd5,exf3,Qxg6,Rxd5,Bxf3,Rg5,Qe6+,Kh8,Rcd1,Qg3,Bxc6,Rxf1+,Rxf1,bxc6,Qxc6,Bd6,Qe8+,Kh7,Qe4+,Rg6,Kg1,Qxh3', 'Qxg6+,Kxg6,gxh3', 'https://lichess.org/training/RWSLo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RwSzK', 'Classical', 'Tintin41', 1749, 'reric_stl', 1729, 'e4,Nc6,d4,d5,e5,Bf5,c3,e6,Nf3,h6,h3,Nge7,Be2,Ng6,g4,Be4,Nbd2,f5,exf6,Bxf3,f7+,Kxf7,Nxf3,a6,Bd3,Nh4,Nxh4,Qxh4,Qf3+,Qf6,Qg2,Bd6,O-O,h5,Bg5,Qxg5,Rae1,hxg4,Re3,Bf4,Re2,gxh3,Qxg5,Bxg5,f4,Bh4,f5,exf5,Rxf5+,Kg8,Rf1,Bg3,Bg6,Rf8', 'Rxf8+,Kxf8,Re8#', 'https://lichess.org/training/RwSzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RWTIZ', 'Rapid', 'nepgargon', 1692, 'Marstell', 1736, 'd4,f5,c4,Nf6,Nc3,g6,Bg5,Bg7,Nf3,d6,e3,O-O,c5,d5,Ne5,Ne4,Nxe4,dxe4,Qb3+,e6,Bc4,Qxg5,O-O,Re8,Bb5,c6,Nf3,Qd8,Be2,b6,Ne5,Bxe5,dxe5,bxc5,Rfd1,Qc7,Rd6,Ba6,Rxe6,Rxe6,Qxe6+,Kf8,Qf6+,Qf7,Qh8+,Qg8,Qf6+,Qf7,Qh8+,Ke7', 'Bxa6,Nxa6,Qxa8', 'https://lichess.org/training/RWTIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rWvfS', 'Classical', 'Kevinas', 1876, 'bydcollin', 1784, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,Bd6,Bg3,O-O,Bd3,c5,c3,cxd4,cxd4,Nc6,Nbd2,Re8,O-O,Bxg3,hxg3,Qb6,Nb3,Nb4,Ne5,Nxd3,Qxd3,Bd7,Nc5,Bb5,Qc3,Bxf1,Rxf1,Rac8,Rc1,Ne4,Qa3,Nxc5,dxc5,Qc7,Nd3,b6,c6,Qe7,Qa4,a5,Qb5,Qc7,b4,axb4,Nxb4,Ra8,Rc2,Rec8,Nd3,Ra5,Qb4,Qa7,Qd6,Rxa2,Rxa2,Qxa2,c7,Qa8,Qxb6,Qa1+,Kh2,Qa8,Nc5,Kf8,Nb7,Ke8,Qc6+,Ke7,Qd6+,Kf6,Qd8+,Rxd8', 'cxd8=Q+,Qxd8,Nxd8', 'https://lichess.org/training/rWvfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RWvjh', 'Rapid', 'IG0R71', 2067, 'yogi024', 2099, 'e4,c6,d4,d5,e5,Bf5,c3,e6,Nf3,Nd7,a3,Ne7,Nh4,Be4,f3,Ng6,fxe4,Qxh4+,Kd2,Qf4+,Kc2,Qxe4+,Kb3,c5,Nd2,c4+,Ka2,Qh4,Nf3,Qd8,Ng5,Be7,h4,Qb6,Qf3,Qb3+,Kb1,Bxg5,hxg5,Nb6,Be2,Qb5,Rf1,Qd7,g3,Na4,Bd1,b5,Kc2,a5,Rb1,b4,Kd2,b3,Qe3,h6,Bh5,hxg5,Bxg6,fxg6,Qxg5,Rh2+,Ke1,Qe7', 'Qxg6+,Kd7,Rf7', 'https://lichess.org/training/RWvjh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rwvQ4', 'Rapid', 'thulio', 1965, 'lukevoneschen', 1840, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Nc3,O-O,O-O,Re8,Bd3,d5,exd5,cxd5,Bg5,d4,Bxf6,Qxf6,Qh5,dxc3,Bxh7+,Kf8,Qxc5+,Re7,Be4,cxb2,Rab1,Rb8,Qxa7,Rb4,Bd3,g6,Qa3,Rb6,Rfd1,Bb7,f3,Kg8,Be4,Bxe4,fxe4,Rxe4', 'Qa8+,Kg7,Qxe4', 'https://lichess.org/training/rwvQ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RWvtg', 'Rapid', 'warenxx', 1640, 'tarmus', 1658, 'e4,Nf6,Nc3,e5,Nf3,c5,Nxe5,d6,Nxf7,Kxf7,Bc4+,Ke8,Nd5,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/RWvtg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RWyvR', 'Rapid', 'lucasgomar', 1930, 'eneasz', 1948, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Nxe5,d5,Qf3,Be6,Bb3,Bd6,d3,Ng5,Qe2,O-O,f4,f6,Nf3,Nxf3+,Qxf3,Bc5,Be3,Bxe3,Qxe3,Re8,O-O,d4,Bxe6+,Kh8,Qf3,Rxe6,Qxb7,Nc6,Qb3,Qe7,Nd2,Rb8,Qc4,Rxb2,Nb3,Re2', 'Qxc6,Qe3+,Kh1', 'https://lichess.org/training/RWyvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rwz9n', 'Rapid', 'DJSuarez', 1960, 'jaybird', 2022, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,Be7,Ne2,O-O,O-O,c6,b3,Na6,Bb2,Nb4,a3,Nbd5,c4,Nb6,Nbc3,Nfd7,d5,exd5,cxd5,cxd5,Nxd5,Nxd5,Qxd5,Nb6,Qe5', 'Bf6,Qa5,Bxb2', 'https://lichess.org/training/Rwz9n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rx4xq', 'Blitz', 'clt3', 1785, 'lamomog', 1773, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nf3,Nxc3,bxc3,g6,Ba3,Bg4,Rb1,b6,Be2,Bg7,Nd4,Bxe2,Nxe2,c5,d4,Nd7,O-O,O-O,Nf4,c4,Nd5,Re8,Nxe7+,Rxe7,Bxe7,Qxe7,Re1,Qa3,Qf3,Rf8,Qd5,Nf6,Qc6,Qxc3,Re3,Qxc2,Rbe1,Qxa2,R3e2,Qb3,d5,b5,d6,Rd8,d7,Rxd7,Re8+,Bf8,Qxf6,Rd1', 'Rxf8+,Kxf8,Qh8#', 'https://lichess.org/training/Rx4xq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RX64y', 'Rapid', 'Davlik', 1620, 'MMB2603', 1610, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,Ne5,Qb6,Bxc6+,bxc6,Qf3,Nf6,d3,Bb7,Bg5,d4,Nc4,Qb4+,Bd2,Qb5,O-O,c5,Nba3,Qd7,Ne5,Bxf3,Nxd7,Bxg2', 'Nxf6+,gxf6,Kxg2', 'https://lichess.org/training/RX64y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rx6bN', 'Classical', 'daaltoga', 1754, 'HAOS65', 1737, 'e4,b6,d4,Bb7,Bd3,Nf6,Nc3,d6,Nf3,Nbd7,O-O,e5,Be3,Be7,Nd2,O-O,f4,exd4,Bxd4,d5,e5,Ne8,f5,f6,e6,Nc5,Be2,Nd6,Bxc5,bxc5,Nb3,c4,Nc5,c6,Nxb7,Nxb7,Na4,Nc5,Nxc5,Bxc5+,Kh1,Be7,Bh5,Qb6,Rf3,Qxb2,Rh3,Qe5,Bf7+,Kh8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/rx6bN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rXBil', 'Rapid', 'stamatn', 1907, 'JDinosaur', 1990, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Bc5,Qe2,O-O,d3,Bg4,f3,Bf5,Nc3,Bb4,O-O,Bxc3,bxc3,Nd5,Bd2,f6,c4,fxg5,cxd5,Qxd5,Qe1,Qd4+,Kh1,Qxa4,Bxa5,Qxc2,Qxe5,Rae8,Qg3,Bxd3,Rfc1,Qa4,Bc3,h6,a3,Rf7,f4,Qxf4,Qxd3,Re3,Qd2,Qe4,Re1,Rxe1+,Rxe1,Qc4,h3,Kh7,Qc2+,g6,Re8', 'Rf1+,Kh2,Qf4+,g3,Rf2+,Qxf2,Qxf2+', 'https://lichess.org/training/rXBil');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RXCeL', 'Rapid', 'cacamaca2', 1917, 'michel26ro', 1835, 'g3,d5,Bg2,Nf6,c4,c6,cxd5,cxd5,Qb3,e5,Nc3,e4,f3,exf3,Nxf3,Nbd7,Nxd5,Nxd5,Qxd5,Be7,d4,O-O,O-O,Re8,Bf4,Nb6,Qxd8,Bxd8,Kf2,Nc4,b3,Nb6,Rae1,Bf5,Ng5,h6,Nf3,Bf6,Ne5,Rad8,e4,Bc8,Kg1,Rxd4,Nxf7,Kxf7,e5,Bd8', 'Be3+,Kg8,Bxd4', 'https://lichess.org/training/RXCeL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RxcI6', 'Rapid', 'brandade', 1715, 'ducci_chess', 1655, 'e4,c5,Nc3,e6,g3,d5,Bg2,d4,Nce2,e5,d3,Qa5+,Qd2,Nc6,a3,Nb4,c3,Nc6,cxd4,Nb4,dxe5', 'Nc2+,Kd1,Qxd2+,Bxd2,Nxa1', 'https://lichess.org/training/RxcI6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rXck4', 'Rapid', 'TalsKnight', 1706, 'Regla2013', 1717, 'd4,d5,Nf3,Nc6,Bf4,Nf6,e3,Bg4,Be2,a6,h3,Bxf3,Bxf3,e6,c3,Bd6,Bxd6,Qxd6,Nd2,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,f5,Bf3,Rae8,O-O,Kh8,Re1,Nd8,Qc2,c6,Rad1,Nf7,Re3,Ng5,Rde1,Nxf3+,Rxf3,Qd8,Rfe3,Qf6,Qb3,f4,Rxe6,Rxe6,Qxe6,Qxe6,Rxe6,h6,Re7,Rb8,f3,g5,Kf2,b6,Re6,c5,d5,Kg7,d6,Rd8,g3,b5,gxf4,gxf4,Ke2,h5,h4,a5,Kd3,b4,cxb4,cxb4,Ke4,Kf7,Ke5,a4,Re7+,Kf8,Ke6,Rb8,d7', 'Rb6+,Kd5,Kxe7', 'https://lichess.org/training/rXck4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rxCMc', 'Blitz', 'Lexman661', 2122, 'Antonioalves', 1879, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Bd6,f4,Bd7,Bxc6,Bxc6,fxe5,Be7,Nf3,Bh4+,g3,Be7,O-O,Nh6,d4,Nf5,Qe2,Bg5,Nxg5,Qxg5,Rf4,O-O-O,Nd2,g6,Raf1,a6,a4,b5,Ra1,bxa4,bxa4,h5,Nb3,h4,Nc5,hxg3,Rg4,gxh2+,Kh1,Qxe3,Qxa6+,Kb8,Qxc6', 'Qf3+,Rg2,Ng3#', 'https://lichess.org/training/rxCMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rXdqH', 'Rapid', 'tomayaki', 1925, 'AVR11', 1878, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ngf3,Qb6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nf3,Qb6,Qa4,a6,Bd2,Qxb2,a3,b5,Qa5,Nxe5,Bc3,Nxf3+,gxf3,Qb3,Rfb1,Qa4,Qc7,Qh4', 'Qc6+,Bd7,Qxa8+', 'https://lichess.org/training/rXdqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RXDya', 'Blitz', 'tmrx', 1611, 'biheba13', 1664, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Bb4,Bd2,Nc6,a3,Bxc3,Bxc3,f6,Bc4,Nge7,O-O,O-O,Qe2,a6,Rfd1,Qe8,e5,fxe5,Nxe5,Nxe5,Bxe5,b5,Bb3,Bb7,Bd6,Qf7', 'Bxe7,Qxe7,Rxd7,Qxd7,Bxe6+', 'https://lichess.org/training/RXDya');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rxEx0', 'Rapid', 'habibi82', 1697, 'boneshrimp', 1694, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ng5,Be7,Nxf7,Kxf7,Qxg4,d6,Qxf4+,Nf6,Bc4+,Ke8,O-O,Rf8,e5,Nh5', 'Bf7+,Rxf7,Qxf7+', 'https://lichess.org/training/rxEx0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rxFzo', 'Rapid', 'blob-fisch', 1959, 'jenapradeed', 1929, 'd4,d5,Nf3,g6,Bf4,Bg7,e3,Nf6,c4,dxc4,Bxc4,O-O,Nc3,a6,h4,b5,Bb3,Bb7,Be5,Nc6,Bxf6,Bxf6,Nd5,Bg7,h5,Na5,Nc3,b4,Na4,Nxb3,axb3,e5,Nc5,Bxf3,Qxf3,exd4,O-O-O,Qg5,Ne4,Qd5', 'Nf6+,Bxf6,Qxd5', 'https://lichess.org/training/rxFzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rXgPH', 'Rapid', 'yakodir', 2220, 'rar992', 2134, 'e4,c6,Nc3,d5,d3,e5,g3,Nf6,Bg2,Be6,Nge2,Bb4,Bd2,d4,Nb1,Bxd2+,Nxd2,c5,b3,Nc6,h3,a5,a4,Qd7,f4,exf4,gxf4,g6,Nc4,Bxc4,bxc4,Nb4,O-O,O-O,Ng3,Ra6,e5,Ne8,Rf2,Ng7,Qg4,Qxg4,hxg4,f5,g5,Rb6,Re1,Ne6,Bd5,Rd8,Rb1', 'Nxd5,Rxb6,Nxb6', 'https://lichess.org/training/rXgPH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rXj4p', 'Rapid', 'yazanabualia', 2032, 'tofbp', 2087, 'e4,e5,Bc4,Nf6,Nc3,c6,Nf3,Qc7,d3,Be7,O-O,O-O,a4,d6,h3,Nbd7,Bg5,b6,Re1,Bb7,Bb3,Rfe8,d4,Rad8,dxe5,dxe5,Qe2,Nc5,Bc4,a6,Bh4,b5,axb5,cxb5,Bxf6,Bxf6,Bd5,b4,Bxb7,bxc3,Bd5,cxb2,Rab1,Rb8,Qc4,Qe7,Re3,Rec8,Rc3,g6,Qa2,Kg7,Rxb2', 'Rxb2,Qxb2,Na4,Rxc8,Nxb2', 'https://lichess.org/training/rXj4p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RXjaz', 'Rapid', 'format34', 1917, 'Tanciuk', 1926, 'e4,e5,f4,Nc6,Nf3,Bc5,Bc4,d6,d3,Be6,Bxe6,fxe6,Nc3,Nge7,Qe2,a6,Be3,Nd4,Qf2,Nxf3+,gxf3,Bxe3,Qxe3,O-O,fxe5,dxe5,O-O-O,Qd4,Qg5,Ng6,Ne2,Qa4,Kb1,Rxf3,Rhg1,Raf8,h4,R3f7,h5,Ne7,Qxe5,Qd7,h6,Nc6,Qg3,g6,a3,Rf3,Qe1,Qf7,Qc3,e5,Ng3,Kh8,Rdf1,Qe6,Qe1,Nd4,c3,Rxf1,Rxf1,Rxf1', 'Qxf1,Kg8,cxd4', 'https://lichess.org/training/RXjaz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rxkYx', 'Rapid', 'Angeljc69', 1829, 'j0hnwats0n', 1719, 'e4,c5,c3,d5,exd5,Nf6,d4,Qxd5,Nf3,Bg4,Be2,cxd4,Nxd4,Bxe2,Nxe2,Qxd1+,Kxd1,Nc6,Bg5,O-O-O+,Kc2,h6,Bxf6,exf6,Nd2,g5,Rad1,Bg7,Nb3,f5,Rxd8+,Rxd8,Rd1,Rxd1,Kxd1,Kd7,Kd2,Kd6,Ke3,Kd5,Ned4,Nxd4,Nxd4,Bxd4+,cxd4,f4+,Kd3,f5,b4,b5,f3,g4,h3,h5,h4,a6,a3,Ke6,Ke2,Kd5,Kd3,Ke6,Ke2,Kd5,Kd3,Ke6,Ke2,gxf3+', 'Kxf3,Kd5,Kxf4', 'https://lichess.org/training/rxkYx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rxn3P', 'Rapid', 'Fedierodrigo', 2081, 'ninja_Jahmir', 2114, 'e4,c6,Nf3,d5,e5,Bg4,Be2,e6,O-O,Ne7,c3,Nd7,d4,c5,Bg5,h6,Bh4,g5,Bg3,Ng6,Nbd2,Be7,h3,Bf5,Qb3,Qc7,Rfe1,h5,Rac1,g4,hxg4,hxg4,Nh2,Nh4,Bxg4,Rg8,Bxf5,Nxf5,Ndf1,O-O-O,Nf3,Rh8,a4,Nxg3,Nxg3,Bh4,a5,Bxg3,fxg3,Rdg8,a6,b6,c4,Rxg3,cxd5,Rhg8,Re2,Kb8,dxe6,fxe6,Qxe6,Qd8,Qd5,Qc8,dxc5,Nxc5,b4,Qg4,bxc5,Rxg2+,Kf1,Rg1+,Kf2,Rg2+,Ke1,Qb4+,Kd1,bxc5,Qd6+,Ka8,Qc6+,Kb8,Qb7+,Qxb7,axb7,Kxb7,Rxc5,R2g3,Nd2,Rd8,Kc2,Ra3,Rb5+,Kc6,Rb2,Rd5,e6,Rc5+,Kb1,Rac3,e7,Rc1+,Ka2,Ra5+,Kb3,Rb5+,Ka4', 'Ra1+,Ra2,Rxa2#', 'https://lichess.org/training/rxn3P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RXobF', 'Rapid', 'vscenev1', 1820, 'ajnajfis', 1841, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,Nf6,Nf3,O-O,Be2,Ne4,Bxd6,Qxd6,O-O,c5,c3,Nc6,Nbd2,h6,Nxe4,dxe4,Ne5,Nxe5,dxe5,Qxe5,Qb3,a6,Rad1,b5,Rd2,c4,Qb4,Bb7,Rfd1,Bd5,a4,Rab8,axb5,Rxb5,Qa4,Rfb8,Bxc4,Bxc4,Qxc4,Rxb2,Qxa6', 'Rxd2,Rxd2,Rb1+,Qf1,Rxf1+', 'https://lichess.org/training/RXobF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rXokR', 'Rapid', 'tutemoques', 1769, 'Chess4Win', 1744, 'e4,c5,Nf3,d6,Bc4,Nc6,Ng5,Nh6,Nf3,Bg4,Be2,f5,d3,Nf7,exf5,Bxf5,O-O,e5,Nc3,d5,Re1,Be7,Bf1,Bf6,Bf4,O-O,Bg3,Re8,a3,Qd7,b4,cxb4,axb4,Nxb4,Bxe5,Nxe5,Nxe5,Bxe5,d4,Nxc2,Bb5,Qd8,Bxe8,Nxe1,Ba4,Bf6,Qxe1,Qd6,Bb3,Be6,Nb5,Qb6,Qe2,Kf7,Rxa7,Rc8', 'Rxb7+,Qxb7,Nd6+', 'https://lichess.org/training/rXokR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RxPoC', 'Blitz', 'Aragorn1997', 1509, 'SedatoxCa', 1504, 'e4,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Nf6,f3,Nc6,Bb5,Bd7,Ne2,O-O-O,Ke1,e5,Be3,Bb4+,c3,Ba5,Bxc6,Bb6,Bxd7+,Rxd7,Bxb6,axb6,Kf2,Rhd8,Rf1,Rd3,c4,g5,h3,h5,b3,g4,hxg4,hxg4,Ng3,gxf3,gxf3,Nd7,Nf5,Nc5,Na3,Rd2+,Kg3,Rg8+,Kh3,Nd3,Rg1', 'Nf4+,Kh4,Rh2#', 'https://lichess.org/training/RxPoC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rXpV5', 'Rapid', 'OsenKR', 1656, 'Jzm14', 1773, 'e4,e5,f4,Nc6,Nf3,Bc5,c3,d6,fxe5,dxe5,b4,Bb6,b5,Na5,Nxe5', 'Qh4+,g3,Qxe4+,Qe2,Qxh1', 'https://lichess.org/training/rXpV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RXPzJ', 'Rapid', 'Joe_Elliott', 1729, 'ELaficionadoSORIA', 2043, 'c4,e6,Nc3,Nf6,g3,d5,d4,Be7,Bg2,O-O,Nf3,dxc4,Ne5,Nbd7,Nxc4,Nb6,Ne5,c5,dxc5,Qxd1+,Nxd1,Bxc5,O-O,Nbd5,e4,Nb4,Be3,Bxe3,Nxe3,Bd7,Nxd7,Nxd7,a3,Nc6,Rfd1,Nb6,Rac1,Rfd8,b4,Nd4,Rc7,Rab8,e5,g6,Kf1,Nb5,Rxd8+,Rxd8,Rxb7,Nxa3,f4,Rd2,Rxa7,Nbc4,Nxc4,Nxc4,b5', 'Ne3+,Ke1,Rxg2', 'https://lichess.org/training/RXPzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rxq5K', 'Blitz', 'RocknRoll88', 1946, 'murathanelm', 1967, 'd4,d5,Nc3,Nf6,Bf4,b6,Nb5,e5,Bxe5,Bd6,Nxd6+,cxd6,Bf4,O-O,e3,Bf5,Bd3,Bxd3,Qxd3,Nc6,a3,Qe7,Nf3,Na5,O-O,Nc4,b3,Na5,h3,Rac8,Rac1,Rc6,Bg5,h6,Bxf6,Qxf6,e4,dxe4,Qxe4,Rfc8,Rfe1,Nxb3,Rb1,Na5,Rb5,Rxc2,Rd5,Rc1,Rxc1,Rxc1+,Kh2,Rc3,Rf5,Qe6,Qa8+,Kh7,Rf4,Qd7,a4,d5,Ne5,Qd6,Rxf7,Nc4,Qxa7,Nxe5,Rxg7+,Kh8', 'Rh7+,Kg8,Qg7#', 'https://lichess.org/training/Rxq5K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RXqtS', 'Rapid', 'zulkiplikipli72', 1965, 'Iykedaphoenix', 1998, 'd4,d5,e4,Nf6,e5,Nfd7,Nf3,Nb6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,e6,c3,Be7,b3,O-O,a4,Nc6,Be3,a5,Nbd2,Rfe8,Bg5,Rf8,h4,f6,exf6,Bxf6,Bxf6,Rxf6,Qe2,Raf8,Rae1,Nd8,Ne5,Qe7,Ndf3,Nd7,Qd3,Nxe5,Rxe5,Nf7,Rh5,Rh6,Rxh6,Nxh6,Ng5,g6,Re1,Rf6,Qb5,b6,Qxd5,Ng4,Nxe6,Kh8,Qg5,Nxf2,d5,Nd3,Re3,Nf4,Kh1,Nxe6,Rxe6,Rxe6,dxe6,Qxg5', 'hxg5,Kg7,Kg1,Kf8,Kf2,Ke7,Ke3,Kxe6,Kd4', 'https://lichess.org/training/RXqtS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RxSKU', 'Rapid', 'kidkasparov123', 2100, 'SebMannheim', 1998, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,Qb6,Nf3,e6,b3,c5,c3,cxd4,cxd4,Bb4+,Bd2,Nc6,O-O,Nge7,Bxb4,Nxb4,Qd2,Rc8,Nc3,O-O,Rac1,Rc7', 'Na4,Qa5,Rxc7,Qxc7,Qxb4', 'https://lichess.org/training/RxSKU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rXTGv', 'Rapid', 'yura_kudr', 1800, 'ferrucciolari', 1771, 'e4,c5,Bc4,g6,Nc3,Bg7,Nf3,Nc6,d3,e6,O-O,Nge7,Bf4,d5,exd5,exd5,Bb5,O-O,Re1,h6,Qd2,Kh7,Bxc6,Nxc6,Nb5,Be6,Bd6,Rg8,Be5,a6,Bxg7,Kxg7,Nc3,Re8,Ne5,Nxe5,Rxe5,Qb6,b3,Qb4,a3,Qb6,Rae1,Rad8,Nxd5,Qc6,Nf4,Bf5,Rxe8,Rxe8,Qc3+,Kh7,Rxe8,Qxe8,h3,h5,Kf1,Qc6,Qe5,b5,Nxh5,Kh6,Nf6,c4,Qf4+,Kg7,Qe5', 'Qxf6,Qxf6+,Kxf6', 'https://lichess.org/training/rXTGv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rXu6U', 'Blitz', 'IM amrsobh', 2402, 'Trimonium', 2358, 'd4,d6,e4,g6,Nc3,Bg7,Be3,a6,Qd2,b5,g4,h5,gxh5,Rxh5,Nge2,Nf6,Ng3,Rh4,f3,Bb7,O-O-O,Nbd7,Qf2,Rh8,e5,Nd5,Nxd5,Bxd5,f4,Bxh1,Nxh1,Nb6,Bg2,d5,Ng3,e6,Bf3,Qh4,Rh1,Nc4,b3,Nxe3,Qxe3,Bh6,Ne2,g5,Kb2,gxf4,Qc3,Kd7,Nc1,Bf8,Nd3,Be7,h3,a5,Nc5+,Bxc5,Qxc5,Rhb8,Bg4,Kd8', 'Qf8+,Kd7,Qxf7+,Qe7,Bxe6+', 'https://lichess.org/training/rXu6U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rxulC', 'Rapid', 'sikku2806', 1680, 'ibrahimzaur', 1618, 'e4,d5,e5,d4,Nf3,Nc6,c3,dxc3,bxc3,Nh6,d4,e6,c4,Bb4+,Bd2,Nf5,Bxb4,Nxb4,Qa4+,Nc6,d5,exd5,cxd5,Qxd5,Bc4,Qe4+,Kf1,O-O', 'Bxf7+,Rxf7,Qxe4', 'https://lichess.org/training/rxulC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rxuZd', 'Rapid', 'isahh', 1789, 'waleed-elkomy', 1767, 'e4,e6,d4,b6,Nc3,g6,Bd3,Bg7,Be3,Bb7,Nge2,Ne7,O-O,O-O,f4,d5,e5,Nd7,Ng3,c5,b3,cxd4,Bxd4,Qc7,Nb5,Qb8,Nd6,Nc8,Nxc8,Qxc8,h4,Nc5,h5,Qd8,hxg6,fxg6,Qg4,Qe7,Bxg6,hxg6,Qxg6,Qf7,Qg4,Ne4,Nh5,Rac8,Rac1,Rc7', 'Nf6+,Nxf6,exf6,Qxf6,Bxf6', 'https://lichess.org/training/rxuZd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rXV1s', 'Rapid', 'YazanAjour10', 2245, 'YuxmanSerg777', 2102, 'd4,c6,c4,d5,Nf3,Nf6,e3,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,dxc4,Qxc4,Be7,O-O,Nbd7,Rb1,O-O,b4,Nb6,Qd3,c5,bxc5,Bxc5,Rd1,Be7,Ne4,Nxe4,Qxe4,Qc7,Bd2,Ba3,Ng5,g6,Qh4,h5,g4,Kg7,Ne4,Be7,g5,Qd8,Bc3,Nd5,Ba1,b6,Kh1,Rc8,Rg1,Rc2,Nf6,Bxf6,gxf6+,Qxf6,Qxh5,Rh8,Qg5,Qxf2,Rg2,Rxh2+', 'Kxh2,Qxg2+,Qxg2,Rxg2+,Kxg2', 'https://lichess.org/training/rXV1s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RXw1h', 'Blitz', 'keremcrazy', 1622, 'andikasmoro', 1672, 'd4,e6,Bf4,c5,e3,Nf6,c3,Ne4,Bd3,d5,Nd2,f5,Ngf3,c4,Bc2,Nc6,Nxe4,fxe4,Ne5,Nxe5,Bxe5,Qh4,O-O,Bd7,Ba4,b5,Bc2,Rg8,a4,a6,axb5,Bxb5,Ba4,Bxa4,Qxa4+,Kf7,Qd7+,Be7,f4,h5,f5,exf5,Rxf5+,Kg6,Qe6+,Bf6,Bxf6,gxf6,Qxd5,Qg4,Rf4,Qg5,Qxe4+,Kh6,Qf3,Rae8,Rxf6+,Kh7,Raxa6,Rxe3,Ra7+,Kh8,Qf2', 'Re1+,Qxe1,Qxg2#', 'https://lichess.org/training/RXw1h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RXw5g', 'Classical', 'alvisa', 2028, 'bully-rook', 1790, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qa5,d4,Bg4,Be2,O-O-O,Be3,e5,O-O,Bxf3,Bxf3,exd4,Bxc6,bxc6,Bxd4,Nf6,Qd2,c5,Qg5,Rxd4,Rad1,Qb6,Qf5+,Qe6,Qf3,Bd6', 'Qa8+,Kd7,Qxh8', 'https://lichess.org/training/RXw5g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rxwzo', 'Blitz', 'Beauvain', 2216, 'LM onubense', 2391, 'e4,c5,Nc3,a6,a4,e6,f4,d6,Nf3,Nc6,d3,g6,g3,Bg7,Bg2,Nge7,O-O,O-O,Be3,Nd4,Qd2,Rb8,Rab1,b5,axb5,axb5,Qf2,Nec6,Rfe1,Bd7,Bxd4,Nxd4,e5,Nxf3+,Bxf3,dxe5,fxe5,Qc7,Qe3,Rfc8,Kh1,Bc6,Bxc6,Qxc6+,Qe4,Qc7,Nd1,Rd8,Nf2,h5,c3,Rd5,d4,cxd4,cxd4,Rbd8,Rbc1,Qb6,Nh3,Rxd4,Qg2,Rd2,Re2,Bxe5', 'Rxd2,Rxd2,Qxd2', 'https://lichess.org/training/rxwzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Rxyy1', 'Rapid', 'ER0JAS', 2097, 'dimasik-dim', 2023, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,g6,h4,h5,Bd3,Bg7,O-O,Qb6,dxc5,Qxc5,b4,Qb6,Bf4,Nge7,a4,Qc7,Qd2,Nxe5,Nxe5,Bxe5,Bxe5,Qxe5,Na3,Bd7,Nb5,Bxb5,Bxb5+,Nc6,Rfe1,Qf6,Qxd5,O-O,Qe4,Qxc3,Rac1,Qxb4', 'Bxc6,Qxe4,Bxe4', 'https://lichess.org/training/Rxyy1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rxYYL', 'Rapid', 'benbanks', 1902, 'idanrara', 1869, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Bxf7+,Kf8,O-O,h6,Ne6+,dxe6,Bg6,Ne7,Bh5,Nxh5,Qxh5,Bd6,d3,Bd7,f4,exf4,Bxf4,Bxf4,Rxf4+,Kg8,Qf7+,Kh7,Rg4,Qf8,Qh5,Be8,Qe5,Qf6,Qxf6,gxf6,Nc3,Bc6,Rf1,Raf8,Ne2,f5,exf5,Nxf5,Nf4,Bd7,Re1,Re8,Nh5,Rhg8,Nf6+,Kh8,Rxg8+,Rxg8,Nxg8,Kxg8,Kf2,Kf7,g4,Nd4,Rc1,e5,c3,Nc6,h3,Kg6,Kg3,Kg5,h4+,Kg6,Re1,h5,b4,a6,g5,Bg4,a3,b5,c4,Nd4,Rxe5,Nf5+,Kf4,bxc4,Re6+,Kf7,Rf6+,Kg7,dxc4,Nxh4,Rxa6,Ng6+,Kg3,Ne5,Ra7,h4+,Kf4,h3,Rxc7+,Kg6,Kg3,Kxg5,Rc5,Kf6,Rxe5,Kxe5,c5,Kd5,Kh2,Kc6,Kg3,Bd7,Kh2,Kb5,Kg3,Be6,Kh2,Ka4,c6,Kxa3,b5,Ka4', 'b6,Kb5,b7,Kxc6,b8=Q', 'https://lichess.org/training/rxYYL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ry2I8', 'Rapid', 'Creaps', 2063, 'Jarot333', 1657, 'd4,e6,c4,Be7,Nc3,a6,e4,d6,Nf3,Bd7,Be3,Nf6,h3,b5,cxb5,axb5,e5,Nd5,Nxd5,exd5,Bd3,dxe5,Nxe5,Bf6,Nxf7,Kxf7,Qh5+,Kg8', 'Qxd5+,Kf8,Qxa8', 'https://lichess.org/training/ry2I8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rY4Ca', 'Blitz', 'Hamurk', 1534, 'M_MNegi007', 1603, 'd4,d5,c4,Nf6,Nc3,e6,e3,Be7,Bd3,O-O,Nf3,c5,b3,cxd4,Nxd4,dxc4,Bxc4,Bb4,Bb2,Ne4,Rc1,Qa5,O-O,Nxc3,Bxc3,Bxc3,a4,Bxd4,Qxd4,Nc6,Qe4,Qf5,Qh4,Na5,Rfd1,Nxc4,Rxc4,b5,Rcd4,bxa4,Rd8,Bb7,h3,axb3,Rxa8,Bxa8,Rd8,b2', 'Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/rY4Ca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ry4M6', 'Rapid', 'SMkhamseh77', 1930, 'cenotafio', 1978, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,Nc3,h6,Bxf6,Bxf6,e3,dxc4,Bxc4,O-O,Rc1,a6,O-O,b5,Bd3,Bb7,e4,Nd7,Qe2,Rc8,e5,Be7,Ne4,f5,exf6,Nxf6,Nc5,Bxf3,gxf3,Bxc5,Qxe6+,Kh8,Rxc5,Qxd4,Rc3,Rce8,Qf5,b4,Rc6,Qe5', 'Rxf6,Qxf5,Rxf5', 'https://lichess.org/training/Ry4M6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ry6JS', 'Rapid', 'ahmed_husein', 1917, 'scottm91', 1859, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Be3,Bg7,Nc3,d6,Qd2,Nf6,h3,O-O,g4,e5,Nxc6,bxc6,g5,Nh5,f4,exf4,Bd4,Qxg5,Bxg7,Nxg7,O-O-O,Ne8,Bc4,a5,h4,Qe5,h5,Bg4,Rdg1,Bxh5,Be2,Bxe2,Qxe2,Nf6,Rh3,Rfe8,Rgh1,h5,Rg1,Nxe4,Nxe4,Qxe4,Qd1,Kf8,Qxd6+,Re7,Rd1,Ke8,Qf6,Qe5,Qxc6+,Kf8,Qxa8+,Kg7,Qf3,Qe3+,Kb1,Qxf3,Rxf3,g5,Rg1,Kh6,b3,Re4,c4,g4,Rd3,f3,Rd6+,Kg5,c5,f2,Rf1,Re1+,Rd1,Re2,c6,Re7,Rxf2,Rc7,Rd6,h4,a3,g3,Rff6', 'g2,Rg6+,fxg6', 'https://lichess.org/training/ry6JS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rY6Kq', 'Classical', 'patd', 1735, 'Tiziao', 1753, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,Be7,Bf4,c6,e3,Nbd7,cxd5,Nxd5,Bd3,Nxf4,exf4,O-O,O-O,Qb6,Rb1,Nf6,Ne5,Rd8,Nc4,Qc7,Qc2,Rxd4,Ne5,Rxf4,Rfe1,Bc5,Re2,Bxf2+,Rxf2,Rxf2,Qxf2,Qxe5,Re1,Qd6,Ne4,Qxd3,Nxf6+,gxf6,Qxf6,Bd7,Rf1,Qg6,Qe7,Be8,Qxb7,Rd8,Qe7,Rb8,b3,a5,Qc7,Rb5,Qe7,f5,h3,Qf7,Qd6,Rd5,Qb8,Rd2,Rf3,Kg7,Rg3+,Kf6,Qf4,Rd1+,Kh2,Qh5,Qf2,Qh4', 'Rg6+,hxg6,Qxh4+', 'https://lichess.org/training/rY6Kq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RY8fn', 'Rapid', 'leoch9', 2092, 'Commonitorium', 2142, 'd4,g6,e4,Bg7,c3,d6,Be2,Nf6,h4,Nxe4,h5,Nf6,hxg6,hxg6,Rxh8+,Bxh8,Nf3,Bg4,Qb3,Qc8,Ng5,e6,f3,Bf5,Na3,Nd5,g4,f6,Nh3,Bxg4,fxg4,Nd7,Bd2,N7b6,O-O-O,Bg7,Nf4,Nxf4,Bxf4,Qd7,Bf3,O-O-O,Re1,e5,dxe5,fxe5,Be3,Rf8,Be2,d5,Rf1,Rxf1+,Bxf1,Qxg4,Bxb6,axb6,c4', 'Qf4+,Kb1,Qxf1+', 'https://lichess.org/training/RY8fn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ry8m4', 'Classical', 'Acedo', 2010, 'yagiz_ghost', 1863, 'd4,Nf6,Bf4,g6,Nf3,Bg7,e3,O-O,Nbd2,d5,h3,c5,c3,cxd4,exd4,Nc6,Be2,Bf5,O-O,Rc8,Ne5,Nd7,Nxc6,bxc6,Ba6,Rb8,Bxb8,Qxb8,Qb3,Nb6,Rfe1,e5,a4,Qd6,dxe5,Bxe5,Nf3,Bg7,a5,Nd7,Bf1,Rb8,Qa3,Nc5,b4,Ne4,Nd4,Be5,b5', 'Bh2+,Kh1,Nxf2#', 'https://lichess.org/training/Ry8m4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ryANl', 'Rapid', 'brantholt', 1902, 'qwer827', 1869, 'd4,Nf6,Nf3,d5,e3,Bf5,c4,c6,cxd5,cxd5,Qa4+,Nc6,Bb5,Bd7,Nc3,a6,Bxc6,Bxc6,Qb3,e6,Ne5,Bd6,f4,O-O,h4,Nd7,Nxc6,bxc6,e4,Rb8,Qd1,dxe4,Nxe4,Bb4+,Bd2,Bxd2+,Qxd2,Nf6,Nxf6+,Qxf6,g4,Rfd8,O-O-O,c5,g5,Qf5,Rh3,Rxd4,Rd3,Rxd3,Qxd3,Qxf4+,Kb1,g6,Qd6,Qb4,Qe5,c4,Rc1,a5,Rxc4,Qb5', 'Rc8+,Rxc8,Qxb5', 'https://lichess.org/training/ryANl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYblZ', 'Classical', 'mattchine', 1702, 'I9_4_2001', 1924, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Qd2,Be7,Be2,Nbd7,f4,Qc7,Nf3,b5,b4,O-O,Bd3,e5,Nd5,Nxd5,exd5,Bb7,h4,Bxd5,Bxh7+,Kxh7,Qxd5,Qxc2,fxe5,Qxg2', 'Ng5+,Kg8,Qxg2', 'https://lichess.org/training/rYblZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ryC5a', 'Blitz', 'Bookmarked', 2070, 'rpstnj', 2153, 'e4,e5,Nc3,Nc6,f4,Nf6,fxe5,Nxe5,d4,Ng6,e5,Ng8,Nf3,d6,Bd3,dxe5,dxe5,Bc5,Qe2,N8e7,Bg5,O-O,O-O-O,Qe8,h4,Nc6,Rde1,Bg4,Bxg6,hxg6,Qe4,Bf5,Qd5,Bf2,Ref1,Bg3,h5,Nxe5,h6,c6,Qd2,Qe6,hxg7,Rfe8,Bf6,Qxf6', 'Rh8+,Kxg7,Qh6#', 'https://lichess.org/training/ryC5a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYc8X', 'Blitz', 'zolpi', 2374, 'NM Aggressus', 2372, 'd4,Nf6,c4,g6,Nc3,d5,Bf4,Bg7,e3,dxc4,Bxc4,O-O,Nf3,Nfd7,O-O,Nb6,Bb3,a5,h3,Nc6,Rc1,Nb8,Qe2,Bd7,Ne5,a4,Bc2,a3,b3,Nc6,Nxd7,Qxd7,Nb5,e5,d5,Nxd5,Bg3,Rfd8,Rfd1,Qe7,e4,Ndb4,Bb1,Nd4,Qc4,Nxb5,Qxb5,c6,Qc4,Rd4,Qc3,Rad8,Rxd4,exd4,Qc4,d3,Rd1,Rd4,Qc1,Rxe4,Kh2,Rd4,Qd2,Qd7,Re1,Rd5', 'Qxb4,d2,Rd1', 'https://lichess.org/training/rYc8X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rycOe', 'Rapid', 'jumbox', 1943, 'Gjyzari94', 1994, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nf6,Nc3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Bg5,h6,Bxf6,gxf6,O-O-O,Rg8,g3,Qc7,Nh4,Rc8,Qxa7,Bxe4,Rhe1,Bh7,Qa4+,Qc6,Qd4,Kd7,Nf3,Bg7,Kb1,f5,Ne5+,Bxe5,Qxe5,e6,Qf6,Ke8,Qxh6,Bg6,Qe3,b5,h4,b4,Nd5,Qxc2+,Ka1,Qe4,Qa7,Kf8,Qe7+,Kg7,Nf6,Qf3,Nxg8,Rxg8,Qxd6,Qxf2,Qe5+,Kh7,h5,Bxh5,Rh1,Kh6,Qf6+,Rg6,Rxh5+,Kxh5,Rh1+,Kg4,Qh4+,Kf3,Qf4+,Kg2,Rd1,Rxg3', 'Rd2,Qxd2,Qxd2+', 'https://lichess.org/training/rycOe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RYDVY', 'Classical', 'epoNt', 1754, 'strongpawn2', 2029, 'e4,d6,f4,g6,Nf3,Bg7,Bc4,Nf6,d3,O-O,O-O,d5,exd5,Nxd5,Ng5,h6,Nf3,Qd6,Nh4,b5,Bb3,Bb7,f5,g5,Nf3,Nf4,Nbd2,Nc6,Ne4,Qd7,Nfxg5,hxg5,Nxg5,Nxg2,Qh5,Qd4+,Rf2,Qh4,Bxf7+,Rxf7,Qxf7+,Kh8,Nf3,Qh7,Rxg2', 'Bd4+,Nxd4,Qxf7', 'https://lichess.org/training/RYDVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RYDx2', 'Rapid', 'Ekburger', 1975, 'gig89', 1999, 'd4,d5,Bf4,Bf5,e3,e6,h4,h6,g4,Be4,f3,Bh7,Nd2,Bd6,Bxd6,Qxd6,f4,Qb4,b3,Nf6,Bg2,Qc3,Rh3,Ne4,Bxe4,Bxe4,Rc1,Nc6,a3,O-O-O,Ne2,Qb2,Nxe4,dxe4,Ng3,Qc3+,Kf2,Nxd4,Nxe4,Qb2,exd4,Rxd4,Qe1', 'Rxe4,Qxe4,Qxc1', 'https://lichess.org/training/RYDx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYe1w', 'Rapid', 'tuskess', 1985, 'codecyan', 1913, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,Bf5,Ng3,Bg6,Bc4,e6,Nf3,Nd7,Bg5,Be7,Nh4,Bxg5,Nxg6,hxg6,c3,Qc7,Ne4,Qf4,Qe2,Ngf6,Nxf6+,Qxf6,g3,Nb6,f4,Bh6,Bd3,Nd5,h4,Bxf4,gxf4,Nxf4,Qe4,Rxh4,O-O-O,Rxh1,Rxh1,O-O-O,Bc2,Qg5,Kb1,Qg2,Qe1,g5,Rh7,Rg8,Rh1,Qd5,Bb3,Qb5,Qg1,f6,Bc2,Nd3,Bb3,Qf5,Bc2,Qf3,Ka1,Re8,Rh7,Qf2,Qxf2,Nxf2,Rxg7,Rh8,b4,Rh2,Rg6,Ng4,Bb3,Rh6', 'Bxe6+,Kd8,Rg8+,Ke7,Bxg4', 'https://lichess.org/training/rYe1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RYEjM', 'Blitz', 'SANJKD', 2102, 'samirll', 2192, 'd4,d5,e3,Nf6,Bd3,c5,c3,Nc6,f4,Bg4,Nf3,Bh5,Nbd2,e6,O-O,Be7,Qa4,Bg6,Bb5,Qb6,Ne5,Rc8,Nxg6,hxg6,Nf3,O-O,Ng5,c4,Bxc6,bxc6,Qc2,a5,Rf3,c5,Rh3,cxd4,exd4,Ne8,Qf2,f6', 'Rh8+,Kxh8,Qh4+,Kg8,Qh7#', 'https://lichess.org/training/RYEjM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ryetu', 'Classical', 'snemelc', 1837, 'Aibek00639', 1711, 'd4,e6,Bf4,d5,e3,a6,Nd2,Bd6,Bxd6,Qxd6,f4,Ne7,Ngf3,Nbc6,c3,h6,Bd3,Nf5,O-O,O-O,Ne5,Nxe5,fxe5,Qe7,Qh5,Nxe3,Rf3,Nf5,Raf1,Qg5,Qh3,Qxd2,Rxf5,exf5,Bxf5,Bxf5,Qxf5,Qxb2,h3,Qxc3,Rf4,Qa1+,Kh2,Qxa2,Rg4,b5,Qh5,Kh7,Qf5+,g6,Qf6,c5,e6,Ra7,exf7,Raxf7', 'Qxg6+,Kh8,Qxh6+,Rh7,Qxf8#', 'https://lichess.org/training/ryetu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYFbI', 'Rapid', 'NyezChess', 1672, 'thebody1403', 1674, 'd4,d5,Bf4,Bf5,Nf3,Nf6,e3,e6,Nbd2,c5,c3,Nc6,Qa4,Bd6,Bxd6,Qxd6,Ne5,O-O,Bb5,Nxe5,dxe5,Qxe5,Nf3,Qc7,O-O,c4,Qd1,Ng4,Qd4,Be4,h3,Bxf3,hxg4,Bxg4,Qxg4,f5,Qd1,Rf6,Ba4,Rh6,g3,Qf7,Kg2,Qg6,Rh1,a6,Rxh6,Qxh6,Qf3,b5,Rh1,Qg5,Rh5,Qf6,Bc2,Rf8,g4,g6,Rh3', 'fxg4,Qxf6,gxh3+,Kxh3,Rxf6', 'https://lichess.org/training/rYFbI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYfdO', 'Blitz', 'hishamcm', 1621, 'Lahchi', 1734, 'e4,e6,Nf3,c5,c3,Nc6,d4,Qa5,Bd2,Qb6,Qc2,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Be3,Qe5,f4,Qa5+,Nc3,Bb4,Bd4,f6,Be2,e5,fxe5,fxe5,a3,exd4,O-O,dxc3,axb4,Qxb4,bxc3,Qc5+,Kh1,Nf6,Ra4,O-O,Qd3,a6,Rc4,Qe5,Rf5,Qe6,Rc7,b5,Qd2,Qxe4,Bd3,Qa4,h3,d5,Qe2,Bxf5,Bxf5,Qa1+,Kh2,Rae8,Qf2,g6,Qa7,gxf5,Rg7+,Kh8,Rg3,Rg8,Rf3,Qb1,Qd4,Re4,Qxf6+,Rg7,Qf8+,Rg8,Qf6+,Rg7,Rg3,Re7', 'Qf8+,Rg8,Qxg8#', 'https://lichess.org/training/rYfdO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rygBo', 'Rapid', 'dliren', 2167, 'RAJESH7-2', 2017, 'd4,d5,c4,c6,Nf3,Nf6,e3,Bg4,h3,Bxf3,Qxf3,e6,Nc3,Bb4,Bd3,dxc4,Bxc4,b5,Bd3,O-O,a3,Qa5,Bd2,Nd5,O-O,Bxc3,bxc3,Nd7,e4,N5f6,Rfd1,Rab8,c4,Qc7,Bb4,c5,dxc5,Nxc5,Bxc5,Qxc5,cxb5,Rfd8,a4,Rd4,Bb1,Rbd8,Rxd4,Qxd4,Ra3', 'Qd1+,Qxd1,Rxd1+,Kh2,Rxb1', 'https://lichess.org/training/rygBo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RyiMD', 'Rapid', 'Abs53', 1935, 'Tipsntaps', 2056, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,Nc6,Bb5,Bd7,O-O,Nf6,Nxf6+,Qxf6,d4,h6,c3,O-O-O,d5,exd5,Qxd5,a6,Ba4,Be6,Qe4,Bd5,Qg4+,Kb8,Bxc6,Bxc6,Nd4,Bd7,Qe4,Bd6,a4,Rhe8,Qc2,c5,Ne2,Qe5,Bf4,Qe7,Bxd6+,Qxd6,Rfd1,Qc7,Ng3,g6,a5,h5,Nf1,Re7,Ne3,Bc6,Rxd8+,Qxd8,b4,cxb4,cxb4,Rc7,Rd1,Qc8,Qb3,Qe8,h3', 'Ba4,Qb1,Bxd1', 'https://lichess.org/training/RyiMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYjM3', 'Blitz', 'Satyajeetkr', 1594, 'dzejms22', 1566, 'g3,Nf6,Bg2,e6,Nf3,Nc6,O-O,Bc5,Nc3,d5,e3,a6,d4,Bb6,a3,Bd7,b4,Qe7,Na4,Ba7,Nc5,O-O-O,Ne5,Nxe5,dxe5,Ne4,Nxe4,dxe4,Bxe4,Bb5,Qf3,Bxf1,Bxb7+,Kb8,Ba8,Kc8,Qb7+,Kd7,Qc6+,Kc8,Bb7+,Kb8,Bxa6,Bxa6,Qxa6,Rd1+,Kg2,h5,Qe2,h4,Qxd1,hxg3,fxg3,c6,Bb2,Qb7,b5', 'cxb5+,Qf3,Rxh2+,Kxh2,Qxf3', 'https://lichess.org/training/rYjM3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYjun', 'Rapid', 'bayrak96', 1692, 'shaolingate', 1707, 'd4,Nf6,Nc3,g6,e4,d6,Bg5,Bg7,h3,O-O,Nf3,Nbd7,Bc4,c5,d5,a6,O-O,b5,Bd3,c4,Be2,b4,Na4,Nxe4,Be3,c3,Qd3,cxb2,Rab1,Nec5,Nxc5,Nxc5,Qc4,Qc7,Bd4,Bxd4,Nxd4,Bf5,Rxb2,Rfc8,Qxb4,Rab8,Qc3,Ne4', 'Qxc7,Rxc7,Rxb8+', 'https://lichess.org/training/rYjun');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RykRt', 'Blitz', 'GM rhungaski', 2444, 'FanDeGranda', 2335, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,Nf6,Nc3,d6,Be2,O-O,O-O,Bd7,Qd2,Nxd4,Bxd4,Bc6,f3,a5,b3,Nd7,Be3,Nc5,Rac1,Qb6,Nb5,Rfc8,Rfd1,Be5,Bf1,Qd8,Nc3,Qb6,Nb5,Qd8,Qf2,Bxb5,cxb5,Qf8,Bc4,Qg7,Rc2,h5,g3,Kh7,Rdc1,Bf6,b6,Kg8,Bb5,Rcb8,Qe2,Bd4,Kg2,Rd8,Rc4,Bxe3,Qxe3,Qb2+,R4c2,Qe5,f4,Qxe4+,Qxe4,Nxe4,Rc7,Nc5,Rxe7,Kf8,Rce1,Rac8,Rc7,Rxc7', 'bxc7,Rc8,Re8+,Rxe8,Bxe8', 'https://lichess.org/training/RykRt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYkUq', 'Blitz', 'CM MasterTol', 2402, 'FM fussi', 2549, 'd4,c6,c4,d5,Nc3,Nf6,cxd5,cxd5,Bf4,Nc6,e3,Bf5,Qa4,Qb6,Bb5,Rc8,Nge2,a6,Bxc6+,Qxc6,O-O,e6,Rac1,Be7,Nxd5', 'Qxa4,Rxc8+,Bd8', 'https://lichess.org/training/rYkUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RYL16', 'Classical', 'cinarelveren', 1774, 'TheAggressor', 1651, 'e4,c5,c3,Nc6,Nf3,Qc7,d4,cxd4,cxd4,Nf6,e5,Ne4,Bd3,d5,Nc3,Bf5,Nxd5', 'Qa5+,Kf1,Qxd5', 'https://lichess.org/training/RYL16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYMCe', 'Rapid', 'orionchess', 2093, 'serraletrica', 2045, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,d6,h3,Be6,Bb3,O-O,O-O,h6,Be3,Bb6,Bxb6,axb6,d4,Bxb3,cxb3,exd4,Nxd4,Re8,Re1,d5,exd5', 'Rxe1+,Qxe1,Nxd4', 'https://lichess.org/training/rYMCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RYNWK', 'Blitz', 'Dule_Igor', 2225, 'shoran', 2259, 'e4,d5,exd5,c6,d4,e6,Nf3,exd5,Bd3,Nf6,Be3,Bd6,Nbd2,h6,Qe2,O-O,O-O-O,b5,Kb1,Ng4,h3,Nxe3,fxe3,a5,g4,a4,g5,hxg5,Rdg1,f6,h4,g4,Bg6,a3,b3,Qa5,Qd3,gxf3,h5,f2,Rf1,f5,h6,Rf6,Bh5,Rxh6,Rxf2,Nd7,Rg2,Nf6,Rg5,Be7,Nf3,Ne4,Rg6,Rxg6,Bxg6,Qc3,Qxc3,Nxc3+,Ka1,f4,exf4,Ne2,Ne5,Nxf4', 'Bf7+,Kf8,Rh8#', 'https://lichess.org/training/RYNWK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ryO1U', 'Rapid', 'Artei', 1709, 'basilepelotier', 1835, 'c4,Nf6,Nf3,c5,d4,cxd4,Qxd4,Nc6,Qc3,e5,Nxe5', 'Bb4,Nxc6,Bxc3+', 'https://lichess.org/training/ryO1U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYO3l', 'Rapid', 'WetCardboardBox', 1896, 'mstfeiz', 1931, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,g4,h6,h4,e5,Nf5,g6,g5,hxg5,Nxd6+,Bxd6,Bxg5,Be7,Qf3,Be6,Rd1,Nbd7,Nd5,Bg4,Nxf6+,Bxf6,Qxg4,Bxg5,Rxd7,Qxd7,Qxg5,Rd8', 'Qxe5+,Qe6,Qxh8+', 'https://lichess.org/training/rYO3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RYOWs', 'Classical', 'SudipCh9', 1621, 'absolutelynuts', 1654, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qd8,Nxe5,g6,Nf3,Bg7,Bc4,Nf6,O-O,O-O,Re1,Nc6,Bb3,Nd4,Nxd4,Qxd4,d3,Ng4,Rf1,Be5,Ne2,Bxh2+,Kh1,Qxf2,Rxf2,Nxf2+,Kxh2,Nxd1,Kg1,Bg4,Nf4,Rfe8,Nd5,Re1+,Kh2,Nf2,Nf6+,Kg7,Nxg4,Nxg4+,Kg3,h5,Bd5,c6,Be4,f5,Bf3,Rae8,b3,Rh1', 'Bb2+,Kh6,Rxh1', 'https://lichess.org/training/RYOWs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RYP9a', 'Rapid', 'BobbyLePecheur', 1626, 'Craciun', 1924, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,b3,Bd7,Be3,Nh6,Bxh6,gxh6,Bd3,cxd4,cxd4,Nxd4,O-O,Nc6,Nc3,O-O-O,Rc1,Kb8,a3,Bxa3,Ra1,Bb2', 'Na4,Qc7,Nxb2', 'https://lichess.org/training/RYP9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RYPnY', 'Rapid', 'Sfide_Mentali', 1972, 'jhospartube', 2056, 'e4,c5,Nf3,d6,d4,cxd4,c3,Nf6,e5,dxe5,Nxe5,g6,Bc4,e6,Bg5,Bg7,O-O,O-O,cxd4,Nbd7,Nc3,Nb6,Bb3,Bd7,Re1,Rc8,Qf3,Bc6,Qe2,Nbd5,a3,h6,Bh4,Nf4,Qc2,Nxg2,Nxf7,Rxf7,Bg3,Nxe1,Rxe1,Nd5,Rxe6,Nxc3,bxc3,Bd5,Rd6,Bxb3,Rxd8+,Rxd8,Qxb3,Kf8,Qb4+,Kg8,Qa5,b6,Qa6,Kh7,Qc4,Rfd7,Qd3,Re7,Kg2,Rd5,a4,Red7,Qa6,Ra5,Qc8,Rf7,Qe8,Raf5,Qd8,g5,c4,h5,h4,Bf6,Qe8,Bxd4,hxg5,Bxf2,Be5,Rxg5+,Kh2,Rgf5,Qh8+,Kg6,Qg8+,Kh6,Bc3,Be3,Be1,Rg7', 'Qe6+,Kg5,Qxe3+', 'https://lichess.org/training/RYPnY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYqb7', 'Rapid', 'ssehcil01', 1786, 'alesgonz', 1809, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,d6,d3,Nc6,Be3,Nd4,h3,O-O,Nxd4', 'exd4,Bxd4,Bxd4', 'https://lichess.org/training/rYqb7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RyRXf', 'Classical', 'Stuck2daO', 1723, 'leo5880', 1839, 'e4,e6,d4,d5,e5,c5,Bb5+,Bd7,Bxd7+,Nxd7,c3,Qb6,Nf3,cxd4,cxd4,Bb4+,Nc3,Rc8,Bd2,Qa5,Qb3,Qb6,a3', 'Bxc3,Qxb6,Bxd2+', 'https://lichess.org/training/RyRXf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RYTeZ', 'Rapid', 'LawyerBrazil', 1750, 'WBogda', 1678, 'e4,c6,d4,d5,exd5,cxd5,Bb5+,Nc6,Nf3,a6,Ba4,b5,Bb3,e6,O-O,Bb7,Ne5,Nxe5,dxe5,Bc5,Nd2,Qg5,Nc4,Qd8,Na5,Qxa5,Qg4,g6,a4,Ne7,Bh6,Qc7,Rfe1,Nf5,Bg5,O-O,Bf6,Be7,Qh3,Qd8,g4,Nd4,axb5,Nxb3,cxb3,Bxf6,exf6,Qxf6,bxa6,Rxa6,Rxa6,Bxa6,Ra1,Bb7,Ra7,Ra8,Rxb7,Qxb2,Qe3,Rd8,Qd3,e5,Kg2,e4,Qe3,d4,Qxe4,d3,Qe7,Rf8,Rd7,Qxb3,Qd6,Qc4,h3,Qe4+,f3,Qe2+,Kg3,Re8,Qxd3', 'Qe1+,Kg2,Re2+,Qxe2,Qxe2+', 'https://lichess.org/training/RYTeZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ryU1g', 'Rapid', 'NainMaboul', 2036, 'grossepatate', 2069, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Bc4,Nc6,Qd2,Nd7,O-O-O,Nb6,Bb3,Na5,Qe2,a6,h4,e5,h5,exd4,Bxd4,Nxb3+,axb3,Bxd4,Rxd4,Qg5+,Kb1,Qe5,Qd2,Be6,Rxd6,Nd7,Rxd7,Bxd7,Qxd7,b5,hxg6,hxg6,Qh3,Qg7,Nd5,f6,Qe6+,Rf7,Ne7+,Kf8,Rh8+,Qxh8,Nxg6+,Kg7,Nxh8,Rxh8,Qg4+,Kf8,Qc8+,Kg7,Qxa6,b4,c4,Rh1+,Kc2,Rg1,Qb6,Rxg2+,Kd3,Rd7+,Ke3,Rxb2,Qxb4,Rd1,Qc3,Rdb1,Qd4,Rxb3+,Kf4,Rf1,Qd7+,Kg6,Qg4+,Kf7,Qh5+,Kg7,c5,Rc3,e5,Rfxf3+,Qxf3,Rxf3+', 'Kxf3,fxe5,c6,Kf6,c7', 'https://lichess.org/training/ryU1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RYUM8', 'Rapid', 'Mohit99', 1741, 'tarekjawadisk', 1749, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,Qf6,dxe5,Nxe5,Nxe5,Qxe5,O-O,Nf6,f4', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/RYUM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rYuXl', 'Rapid', 'Dareonar', 1709, 'Shurik0278ua', 1658, 'c4,c5,Nc3,g6,g3,Bg7,Bg2,Nf6,Nf3,d6,d4,cxd4,Nxd4,O-O,O-O,Nbd7,Be3,Ne5,Bc1,Nxc4,Qb3,Nb6,a4,Rb8,a5,Nbd7,a6,bxa6,Qc4,Nb6,Qd3,Bf5,Qxa6,Nfd7,Nc6,Nc5,Qa2,Be6,Nd5,Qd7,Nxb8,Rxb8,Nxb6,Rxb6,Qxa7,Qb5,Qxe7,Nd7,Qe8+,Bf8,Bh6', 'Rb8,Ra8,Rxe8', 'https://lichess.org/training/rYuXl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ryv8V', 'Rapid', 'stemos', 1855, 'juicewatcher', 1718, 'e4,g6,f4,Bg7,Nf3,e6,d4,b6,Bd3,Bb7,O-O,a5,c4,Na6,a3,c5,e5,cxd4,Nxd4,Nc5,Bc2,Qh4,Nc3,Ke7,Be3,Nh6,h3,Nf5,Nxf5+,gxf5,Bxc5+,bxc5,Qd6+,Ke8,Qxc5,Rc8,Qd4,Rg8,Qf2,Qh6,Kh2,Bxe5,g3,Bb8,Nb5,Rxc4,Ba4,Rxa4,b4,axb4,axb4,Rxa1,Rxa1,Ke7,Qc5+,d6,Qb6,Bd5,Ra7+,Kf6,Rb7,Bxb7,Qxb7,Qg7,Qf3,d5,Nd4,Qf8,Nc6,Qd6,Qc3+,Kg6,h4,d4,Qf3,Qd5', 'Ne7+,Kg7,Nxd5', 'https://lichess.org/training/Ryv8V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RyvyH', 'Rapid', 'RudiCigelski', 2075, 'sergiodone', 2029, 'e4,c5,Nc3,e6,Bc4,a6,a4,b6,f4,Bb7,d3,Nc6,Nf3,Be7,O-O,h5,f5,Nf6,fxe6,dxe6,Bg5,Nd4,Ne2,Nxf3+,Rxf3,Qc7,Bf4,Bd6,Bxd6,Qxd6,c3,Ng4,h3,Qh2+,Kf1,Qh1+,Ng1,Nh2+,Kf2,Ng4+,Kf1,Ne5,Rg3,Qh2,Rxg7,Qf4+,Nf3,Nxc4,dxc4,Bxe4,Qd2,Qf6,Qg5,Qxg5,Nxg5,Bg6,Nxe6,Ke7,Nc7,Ra7,Nd5+,Kf8,Rxg6,fxg6,Nxb6,Kg7,Rd1,Rf8+,Kg1,Rff7,Rd5,Rab7,a5,Rbe7,Rxc5,Re1+,Kh2,Re2,b4,Rff2,Rg5,Kh6,Rg3,h4,Rg4,g5,Nd5,Re1,c5,Rff1,g3', 'Re2#', 'https://lichess.org/training/RyvyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RyWHQ', 'Rapid', 'birdscanFly4', 1977, 'hungdui', 2014, 'f4,d5,Nf3,Bf5,e3,e6,Nc3,c5,Bb5+,Nc6,Ne5,Rc8,b3,f6,Qh5+', 'g6,Bxc6+,bxc6,Nxg6,Bxg6', 'https://lichess.org/training/RyWHQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RYy4e', 'Classical', 'Frikili', 1679, 'salvador97', 1673, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,h3,c5,Bb5+,Bd7,Bxd7+,Qxd7,dxc5,Nc6,Be3,Be7,Nbd2,d4,Bg5,O-O,Nb3,Ne4,Bxe7,Qxe7,O-O,Nxc5,Re1,Qf6,Nbxd4,Nxd4,Nxd4,Rad8,c3,Ne6,Qb3,Nxd4,cxd4,b6,d5,h6,Rac1,Qf5,Rc7,a5,Qxb6,Rxd5,Qc6,Rd2,Rb7', 'Qxf2+,Kh2,Qxe1', 'https://lichess.org/training/RYy4e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RyYTA', 'Rapid', 'waterfox', 2096, 'adam1920', 1998, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,cxd5,cxd5,Qb3,Bc8,Bf4,a6,e3,e6,Bd3,Be7,h3,O-O,O-O,Nbd7,Rfc1,b5,a4,b4,Ne2,a5,Bc7,Qe8,Bb5,Ba6,Rc6,Bxb5,axb5,Nb8,Rb6,Qd7,Bxb8,Rfxb8,Rxb8+,Rxb8,Rxa5,Rxb5,Ne5,Qb7,Qa4,Rxa5,Qxa5,h6,g4,Ne4,Qa4,Nf6,Nf4,Bd6,Nfd3,Kf8,Kg2,Ke7,Nc6+,Kf8,Ncxb4,Bxb4,Qxb4+,Qxb4,Nxb4,Ne4,f3,Nd2,Kf2,Nc4,Nd3,Ke7,e4,Kd6,b3,Na5,Nc5,e5,Ke3', 'exd4+,Kxd4,Nc6+,Kc3,Kxc5', 'https://lichess.org/training/RyYTA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RyyzE', 'Rapid', 'tomersh', 1746, 'IAmNeerajArya', 1778, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,h6,Bd3,Bd6,Bg3,Nc6,c3,b6,Ne5,Bb7,f4,Ne4,Nd2,Nxg3,hxg3,a5,g4,Nxe5,dxe5,Bc5,Qa4+,Qd7,Qxd7+,Kxd7,Bb5+,c6,Ba4,b5,Bc2,Bxe3,O-O-O,Bxf4,Rdf1,g5,g3,Bxe5,Rxf7+,Kc8,Re7,Bxg3,Rxe6,Kc7,Rf1,Kb6,Bb3,Rad8,Rf5,d4,a4,bxa4,Bxa4,dxc3,bxc3,Bf4,Re2,Bxd2+,Rxd2,Rxd2,Kxd2,Rd8+,Ke3,Bc8,Rf6,Bxg4,Rxc6+,Kb7,Rxh6,Rc8,Kd2,Rd8+,Kc2,Rd1,Rg6,Ra1,Bb5,Ra2+,Kb3,Rg2', 'Bc6+,Kc7,Bxg2', 'https://lichess.org/training/RyyzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ryZ0V', 'Rapid', 'Brischniak', 1724, 'UPu36ESM', 1892, 'e4,c5,Nf3,Nc6,Bc4,e6,a3,Nf6,d3,Bd6,h3,a6,Qe2,b5,Ba2,Ne5,Nxe5,Bxe5,c3,Bb7,O-O,Qc7,Qf3,c4,d4,Bxe4,Qe3,Bd6,Nd2,Bd3,Re1,Nd5,Qf3,O-O,Bb1,Nf4,Bxd3,Nxd3,Re4,f5,Re3,Bf4,Re2,Bh6,b3,d5,bxc4,bxc4,Rxe6,Nxc1,Qxd5,Bxd2', 'Re7+,Kh8,Rxc7', 'https://lichess.org/training/ryZ0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RyZjs', 'Rapid', 'PMethod', 1634, 'Chaturanja', 1641, 'd4,e6,e4,Nc6,Nf3,Bb4+,Bd2,Nge7,Nc3,O-O,Bd3,b6,a3,Bxc3,Bxc3,Bb7,d5,exd5,exd5,Nxd5,Bd2,Re8+,Kf1,Qf6,Bc1,Nd4,Nxd4,Qxd4,c3,Qf6,Qh5,g6,Qg4,Nf4,Bxf4,Qc6,Bh6,Re6,Bc4', 'Re4,Bxf7+,Kxf7', 'https://lichess.org/training/RyZjs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RZ0r4', 'Rapid', 'Timbothe2nd', 1970, 'Deli_Sahin', 1903, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,Nc3,Qb6,Be3,Nc6,Na4,Qa5+,Nc3,Qb6,Nxc6,Bxe3,fxe3,Qxe3+,Qe2,Qxe2+,Bxe2,bxc6,O-O,Ne7,a4,O-O,b4,Bb7,Na2,d5,exd5,cxd5,c4,dxc4,Bxc4,Nd5,Rae1,Rfc8,Bd3,a5,b5,Nb6,Rf4,Nd5,Rh4,h6,Be4,Rc4', 'Bh7+,Kxh7,Rxc4', 'https://lichess.org/training/RZ0r4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZ1An', 'Blitz', 'zhazzy', 1526, 'Chrizzly', 1547, 'e4,e5,Bc4,Nf6,Nc3,Nc6,a3,d6,Nf3,Bd7,d3,g6,Bg5,Be7,Nd5,Nxd5,Bxd5,O-O,Be3,Kh8,h4,f5,h5,f4,hxg6,h6,Rxh6+,Kg7,Rh7+,Kxg6,Ng5,Bxg5', 'Qh5+,Kf6,Rf7+,Rxf7,Qxf7#', 'https://lichess.org/training/rZ1An');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rz2c2', 'Rapid', 'jkf11', 1816, 'Carrarmato143', 1807, 'd4,Nf6,c4,d6,Nc3,c6,e4,Qa5,Bd3,g6,Be3,Ng4,Bd2,Qb6,f3,Qxd4,Qe2,Nh6,Be3,Qe5,Qd2,Qh5,O-O-O,Bg7,Nge2,Qa5,Bxh6,Bxc3,Nxc3,Be6,f4,Nd7,f5,gxf5,exf5,Bxf5,Bxf5,Qxf5,Rdf1,Qg6,Rf2,Nc5,Rhf1,f6,Re1', 'Nd3+,Kd1,Nxf2+', 'https://lichess.org/training/rz2c2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rz3t0', 'Rapid', 'Sinkoush', 1698, 'burhankurt27', 1770, 'Nf3,d5,e3,Nf6,b3,Ne4,c4,e6,Bb2,Bb4,Bxg7,Rg8,Bb2,f5,a3,Bd6,Be5,Bxe5,Nxe5,Qf6,d4,Nc6,Nxc6,bxc6,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/rz3t0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZ5vL', 'Rapid', 'AnshulGarg', 1612, 'dsrt2508', 1666, 'e4,Nc6,d4,e6,c4,Nge7,d5,exd5,cxd5,Ne5,f4,N5g6,Nf3,c6,Nc3,cxd5,Nxd5,Nxd5,exd5,Bb4+,Bd2,Bxd2+,Qxd2,b6,Bb5,Bb7,Qe2+,Qe7,Qxe7+,Nxe7,d6,Nc6,O-O,O-O,Ne5,Nxe5,fxe5,Rad8,Rac1,Bd5,b3,a5,Rc7,Be6,Rb7,Rb8,Rxb8,Rxb8,Rf3,Rc8,Kf2,Rc5,Bc4,Bxc4,bxc4,Rxe5,Rb3,Rf5+,Ke3,Re5+,Kf4,Rc5,Rxb6,Rxc4+,Ke5,Rc2', 'Rb8+,Rc8,Rxc8#', 'https://lichess.org/training/rZ5vL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZ9ON', 'Classical', 'eductx', 2144, 'ElSimao', 2056, 'd4,Nf6,Bg5,Ne4,Bh4,d5,Nc3,Nxc3,bxc3,Nc6,Nf3,g6,e3,Bg7,Bb5,Bd7,O-O,O-O,Qd2,a6,Bd3,Qc8,h3,Bxh3,gxh3,Qxh3,Rfb1,Qxf3,Rxb7,Rfc8,Be2,Qh3,Bg3,e5,Qd1,Qe6,Rab1,Na5,R7b4,Nc4,e4,Nb6,exd5,Nxd5,Bc4,Rd8,Qf3,Qc6,dxe5,Nxb4,Qxf7+,Kh8,cxb4,Rf8,Qd5,Qb6,Bh4,Rae8,e6,Qd4,Qxd4,Bxd4,Rd1,Rf4', 'Rxd4,Rxd4,Bf6+,Kg8,Bxd4', 'https://lichess.org/training/rZ9ON');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RzAq1', 'Blitz', 'Lorok', 1749, 'mohammadtayyebi', 1759, 'e4,e5,Nc3,c5,g3,Nc6,Bg2,d6,Nge2,Be7,d3,Nf6,f4,O-O,fxe5,dxe5,h3,Be6,O-O,Qd7,g4,Nd4,Nxd4,cxd4,Ne2,a6,Ng3,b5,Nf5,Bxf5,gxf5,Ne8,Qg4,g6,Bh6,Nf6,Qg3,Rfe8,Bg5,Qd6,Qh4,Nh5,Bf3,Nf4,f6,Bd8,Qh6,Qf8,Bxf4,exf4,Qxf4,Bb6,e5,Rad8,Rae1,h6,Qg3,Kh7,Be4,Re6,Rf4,Rde8,Rh4,Rxe5', 'Bxg6+,fxg6,Rxe5,Rxe5,Qxe5', 'https://lichess.org/training/RzAq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RZASo', 'Blitz', 'WFM Anamad1990', 2140, 'DekerS', 2151, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,d6,Nf3,Nbd7,Be2,e5,O-O,O-O,Bd2,c5,d5,Ne8,a3,f5,Ng5,Ndf6,b4,b6,bxc5,bxc5,Rb1,h6,Ne6,Bxe6,dxe6,Qe7,Nd5,Qxe6,Rb7,Nxd5,cxd5,Qf6,Qa4,Rf7,Rfb1,fxe4,Rxf7,Qxf7,Qxe4,Nf6,Qa4,Rf8,Qc6,Qxd5', 'Qxd5+,Nxd5,Bc4,Kh8,Bxd5', 'https://lichess.org/training/RZASo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rzb1B', 'Rapid', 'Pawngrabber1', 1968, 'Souravpaul', 1941, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,d6,h3,Nf6,d3,O-O,c3,h6,Bb3,a6,Nbd2,Be6,Bc2,Qd7,Kh2,d5,d4,dxe4,Nxe4,exd4,cxd4,Bd5,Nxf6+,Bxf6,Qd3,g6,Bxh6,Rfe8,a3,Bxf3,Qxf3,Qxd4,Rad1,Be5+,g3,Qxb2,Rd7,Re7,Rxe7,Nxe7,Bb3,Nf5,Qxb7,Re8,Bf4,Bxf4', 'Bxf7+,Kxf7,Qxb2', 'https://lichess.org/training/rzb1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RZbP2', 'Rapid', 'lordmegatron', 1747, 'AB123456', 1842, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,c4,c5,Qd3,h6,Be2,Nf6,Nc3,Be7,Bf4,O-O,O-O,b6,Rad1,Bb7,f3,Ne8,Nb5,Ba6,Nxd6,Nxd6,Bxd6,Bxd6,Qxd6,Qg5,Qd2,Qf6,b3,Rfd8,Qc1,Bb7,Rd3', 'Rxd3,Bxd3,Qd4+,Kh1,Qxd3,Rd1,Qe2', 'https://lichess.org/training/RZbP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RzD2i', 'Rapid', 'Borsosfoldi', 1928, 'nooryshooeep', 1832, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Be7,O-O,f5,d3,h6,Nc3,f4,d4,Bf6,dxe5,dxe5,Qxd8+,Kxd8,Rd1+,Ke8,b3,g5,Bb2,Ne7,Na4,Ng6,Nc5,Kf7,Nd7,Re8,Nxf6,Kxf6,Rd2,g4,hxg4,Bxg4,Nh2,Bh5,Rf1,Nh4,g4,Rg8,f3,Rg7,Kf2,Bf7,g5+,Rxg5,Ng4+,Ke6,Nxh6,Bh5,Ng4,Bxg4,fxg4,Rxg4,Ke1,Rag8,Rh2,f3,Kd1,Rf8,Rfh1,Rh8,Rf1,Rf8,Bc1,Ng2,Rh6+,Kf7,Rxc6', 'Rd8+,Bd2,Ne3+,Kc1,Nxf1', 'https://lichess.org/training/RzD2i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RzEnX', 'Classical', 'jansch', 1615, 'ChessplayerArtem', 1754, 'd4,d5,Bf4,Bf5,Nc3,c6,e3,e6,Nf3,f6,Bd3,Bg4,h3,Bxf3,Qxf3,Bb4,O-O,Bd6,Qh5+,Kf8,Bxh7,Bxf4,exf4,f5,Qg6,Nf6,Rae1,Rxh7,Rxe6,Rh6,Qg5,Rh5', 'Rxf6+,Qxf6,Qxh5', 'https://lichess.org/training/RzEnX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RzeQh', 'Classical', 'LucasGoalis1900', 1847, 'mushroomless', 1893, 'e4,e6,d4,d5,exd5,exd5,Bd3,c5,c3,Nc6,Nf3,Bg4,O-O,cxd4,cxd4,Be7,h3,Bh5,Be2,Nf6,Nc3,O-O,Re1,Bb4,Bd2,Re8,Be3,Ne4,Qc2,Qa5,Nxe4,Bxe1,Nxe1,Bxe2,Qxe2,Rxe4,Nf3,Rae8,Ng5,R4e7,Qd3,g6,Qe2,Nxd4,Qg4,Nf5,a3,Nxe3,Qh4,h5,fxe3,Rxe3,Nf3,Qc5,Kh2,Kg7,Rf1,Qc2,Nd4,Qe4,Qf6+,Kg8,Qxf7+,Kh8,Qf6+,Kh7,Qf7+,Kh6,Nf5+,gxf5,Rxf5,Qh4', 'Rf6+,Qxf6,Qxf6+', 'https://lichess.org/training/RzeQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rzHnE', 'Bullet', 'chess234567', 1685, 'LordDemian', 1701, 'e4,c5,d3,Nc6,Nc3,g6,Be3,d6,Qd2,Bg7,O-O-O,e6,Kb1,Rb8,Be2,b5,Nf3,b4,Na4,Qa5,b3,Nge7,d4,cxd4,Nxd4,Nxd4,Bxd4,e5,Be3,O-O,h4,Rd8,h5,d5,hxg6,fxg6,Bh6,Bd7,Bxg7,Kxg7,Qh6+,Kf6,Bg4,Bxa4,Qh4+,g5,Qh6+,Ng6,bxa4,Qxa4,Bf5,b3,cxb3,Rxb3+,Ka1,Ra3,Rd2,Rb8,Qxh7', 'Rxa2+,Rxa2,Qd4+,Rb2,Qxb2#', 'https://lichess.org/training/rzHnE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZiFn', 'Rapid', 'manullang2000', 1961, 'Chumak', 1845, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,b3,a6,Bb2,e5,Nf3,Nc6,e3,h6,Be2,Nf6,O-O,Bd6,h3,e4,Nh2,Bxh2+,Kxh2,Qd6+,g3,Qe6,g4,Qe5+,Kh1,h5,Kg2,hxg4,Rh1,gxh3+,Kf1,h2,Na4,Bh3+,Ke1,Bg2,Bxe5,Bxh1,Bxh2,Rxh2,Bf1,Bf3,Qc2,Rh1,a3,Bg2,Ke2,Bxf1+,Rxf1,Rxf1,Kxf1,O-O-O,Nc5,Ne5,b4,Nf3,Nb3,Nh2+,Ke2,Nf3,Nd4', 'Rxd4,exd4,Nxd4+', 'https://lichess.org/training/rZiFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rzIjw', 'Rapid', 'G-a-b-r-i-e-l-e', 1895, 'mingrelski', 1924, 'e4,e5,f4,Nc6,Nf3,d6,fxe5,dxe5,Bb5,Bd6,O-O,Nf6,d3,h6,Kh1,O-O,Nc3,Bg4,Nd5,Nxd5,exd5,Nd4,Bc4,b5,Bb3,Bxf3,gxf3,Nxb3,axb3,Bc5,b4,Bxb4,Rg1,Qh4,c3,Bc5,Rg4,Qh5,f4,Bd6', 'Rxg7+,Kxg7,Qxh5', 'https://lichess.org/training/rzIjw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZjZC', 'Classical', 'DeddyAhmad', 1827, 'amine2173', 2081, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,a6,Nc3,e6,Be3,b5,Bd3,Bb7,Qd2,Nbd7,O-O-O,Rc8,Kb1,b4,Nce2,d5,e5,Nxe5,f4,Nc4,Bxc4,Rxc4,b3,Ne4,Qd3,Rc3,Nxc3,Nxc3+,Kb2,Qa5,a4,bxa3+,Ka1,Bb4,f5,Nxd1,Rxd1,Bc3+,Ka2,e5,Ne2,e4', 'Qxc3,Qxc3,Nxc3', 'https://lichess.org/training/rZjZC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rzkbg', 'Rapid', 'sasharul', 1678, 'Rvinod', 1731, 'e4,c5,d3,Nc6,Be3,e6,Nc3,d5,exd5,exd5,Nce2,d4,Bd2,Nf6,c3,Bd6,Nf3,dxc3,Nxc3,O-O,Be2,Nd4,Be3,Nxe2,Qxe2,Re8,O-O-O,a6,Rhe1,Bg4,h3,Bxf3,Qxf3,b5,Nd5,Nxd5,Qxd5,Qf6,Bxc5,Bxc5,Rxe8+,Rxe8,Qxc5,Qe6,a3', 'Rc8,Qxc8+,Qxc8+', 'https://lichess.org/training/rzkbg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RzmdM', 'Rapid', 'SlaskWroclaw', 2308, 'HenrikFrondelius', 2056, 'e4,e6,b3,c5,Bb2,Nc6,Bb5,Nd4,Bd3,d5,Nf3,Qb6,a4,a6,a5,Qa7,c3,Nc6,Qe2,d4,Na3,e5,Nc4,f6,Nb6,Be6,Nxa8,Qxa8,Bc4,Qc8,O-O,Nge7,Nh4,Ng6,Qh5', 'Bg4,Nxg6,Bxh5', 'https://lichess.org/training/RzmdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RzMTE', 'Blitz', 'FM calvinmaster', 2400, 'IM pollovsky', 2397, 'e4,d5,exd5,Qxd5,c4,Qd8,d4,g6,Be3,Bg7,Be2,b6,Nf3,Bb7,O-O,Nh6,Bd3,O-O,h3,e6,Nbd2,Nd7,c5,Nf5,Bxf5,exf5,Rc1,Bd5,Re1,h6,Qa4,Nf6,Ne5,g5,g3,f4,gxf4,Nh5,fxg5,hxg5,Qd7,Bxe5,Qxd8,Raxd8,dxe5,Nf4,Kh2,Nd3,Bxg5,Nxc1,Rxc1,Rd7,c6,Rdd8,Bxd8,Rxd8,Nc4,Bxc4,Rxc4,Rd2,Rf4,Rxb2,a4,Rc2,Rf6,Rc5,f4,Ra5,Kg3,Rxa4,Kg4,Rd4,Kg5,a5,f5,a4,e6,fxe6,fxe6,a3', 'e7,Re4,Rf8+', 'https://lichess.org/training/RzMTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZNnK', 'Rapid', 'The--Squeeze', 1801, 'greggz451', 1820, 'c4,d5,cxd5,Nf6,Nf3,Qxd5,Nc3,Qh5,e4,Nc6,e5,Nd7,d4,e6,Bb5,Bb4,Bxc6,bxc6,Qa4,Bxc3+,bxc3,c5,Qc6,Rb8,Qxc7,Bb7,Ba3,cxd4,cxd4,Bxf3,gxf3,Qxf3,Rc1,Qxh1+,Kd2,Qf3', 'Qc8+,Rxc8,Rxc8#', 'https://lichess.org/training/rZNnK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZoer', 'Blitz', 'sequent9', 1890, 'Pepoid3s', 1767, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,f3,Be7,Bc4,Nc6,Qd2,Nxd4,Bxd4,b5,Bb3,Bd7,h4,Rc8,g4,e5,Be3,Bxg4,fxg4,Nxg4,Nd5,Nxe3,Qxe3,Bxh4+,Kd2,Bg5,Qxg5,Qxg5+,Ne3,O-O,Rag1,Qe7,Nd5,Qa7', 'Nf6+,Kh8,Rxh7#', 'https://lichess.org/training/rZoer');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZpve', 'Rapid', 'taurin1729', 1715, 'SergAles', 1610, 'e4,e5,Bc4,Nc6,c3,Bc5,d4,exd4,Bxf7+,Kf8,Bb3,Qf6,Nf3,dxc3,Nxc3,Bb4,e5,Nxe5,Bg5,Qf5,Qd5,Nxf3+,Qxf3,Bxc3+,bxc3,Qxf3,gxf3,c6,O-O-O,d5,c4,Be6,cxd5,Bxd5,Bxd5,cxd5,Rxd5,Rc8+,Kd2,h6,Rc1', 'Rxc1,Kxc1,hxg5', 'https://lichess.org/training/rZpve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RZPvW', 'Rapid', 'Uver1976', 1819, 'vladdobr', 1667, 'e4,c6,Nf3,d5,e5,Bg4,c4,e6,cxd5,cxd5,Be2,Ne7', 'Qa4+,Nbc6,Qxg4', 'https://lichess.org/training/RZPvW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZqWo', 'Rapid', 'lumad', 1678, 'keacrab', 1724, 'e4,e5,Nf3,Nc6,Bb5,f5,Bxc6,dxc6,Nxe5,Nf6,exf5,Bxf5,d4,Bd6,O-O,O-O,Bf4,c5,c3,Nd5,dxc5,Bxc5,Qb3,Bxb1,Raxb1,Rxf4,Nd3,Bxf2+,Rxf2,Rxf2,Nxf2,c6,Rd1,Kh8,c4,Qg5,cxd5,Rd8,Qxb7,h5,Qxc6,Qe3,d6,Re8,Kf1', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/rZqWo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZqzj', 'Rapid', 'bandaloop', 1600, 'NoureddineIQ', 1626, 'e4,c5,Bc4,Nc6,d3,g6,Bd2,Bg7,c3,Nb4,a3,Nc6,Nf3,e6,Bg5,Nge7,Nbd2,O-O,Qe2,f6,Bf4,d5,exd5,exd5,Ba2,Nf5,Nb3,Re8,Be3,Nxe3,fxe3,d4,cxd4,cxd4,Nbxd4+,Kh8,O-O', 'Nxd4,Nxd4,Qxd4,exd4,Rxe2', 'https://lichess.org/training/rZqzj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RZRjQ', 'Classical', 'foma4444', 1980, 'sherifosman111', 1881, 'e4,e6,d4,d5,e5,c5,c3,Qb6,f4,Nh6,Bd3,Nc6,Nf3,Bd7,Bc2,cxd4,cxd4,Nb4,Bb3,Bb5,Bc2,Rc8,Nc3,Nxc2+,Qxc2,Nf5,Qd1,Bb4,Bd2,Nxd4,Nxd4,Qxd4,Nxb5,Qxb2,Nd6+,Kd7,Nxc8', 'Bxd2+,Qxd2,Qxa1+', 'https://lichess.org/training/RZRjQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZS0S', 'Rapid', 'Skele_Dakhaas', 1803, 'HelgiusVD', 1748, 'Nf3,Nc6,c4,e5,Nc3,Nf6,e3,Be7,d4,exd4,Nxd4,Nxd4,exd4,d6,Bd3,O-O,O-O,c6,b3,Qb6,Re1,Re8,Bg5,Bg4,Qd2,Kh8,Be3,Qd8,h3,Bh5,g4,Bg6,f4,Bxd3,Qxd3,d5,c5,Nd7,Bf2,Bh4', 'Rxe8+,Qxe8,Bxh4', 'https://lichess.org/training/rZS0S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rzVHd', 'Bullet', 'Andrei_Kudryshov', 1725, 'MrNovice', 1788, 'e4,c5,Nc3,d6,Bb5+,Nd7,Nge2,a6,Bxd7+,Bxd7,d4,c4,O-O,b5,a3,Rc8,f4,Bc6,d5,Bb7,Nd4,Nf6,Qe2,g6,f5,Bg7,fxg6,hxg6,Bg5,Qd7,Qf2,Qg4,h4,Nxe4', 'Qxf7+,Kd7,Qxe7#', 'https://lichess.org/training/rzVHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rzvHX', 'Classical', 'RockMoses', 1843, 'MrScribbler', 2007, 'd4,d5,c4,c6,Bf4,Nf6,e3,e6,Nf3,Bd6,Bxd6,Qxd6,Bd3,dxc4,Bxc4,Qb4+,Nbd2,Qxb2,O-O,O-O,Bb3,Qa3,Nc4,Qe7,Qd3,Nbd7,Bc2,g6,e4,c5,e5,Nd5,a3,b5,Ne3,c4,Qe4,N7b6,Qg4,Bb7,h4,h5,Qg3,Nxe3,fxe3,Nd5,Rae1,Kg7,e4,Nb6,Re3,a5,Ng5,b4,Ref3,b3,Bb1,Bc6,Rxf7+,Rxf7,Rxf7+,Qxf7,Nxf7,Kxf7,Qf4+,Kg7,Qf6+,Kh6,Qxe6,Rc8,d5,c3,dxc6', 'c2,Qxb3,c1=Q+', 'https://lichess.org/training/rzvHX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('RZwBF', 'Blitz', 'wared88', 2159, 'NM gooddave2017', 2413, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,d6,Bxc6+,bxc6,O-O,Nh6,d3,O-O,Kh1,f5,Qe2,Nf7,e5,d5,Na4,c4,dxc4,Qa5,Nc3,Ba6,Rd1,Bxc4,Qf2,Rab8,Nd4,Qb6,Be3,Qxb2,Nxc6,Qxc3,Nxe7+,Kh8,Bd4,Qa3,Qh4,g5,Ng6+,Kg8,fxg5,hxg6,e6,Ne5,Re1,Qd6,Re3,Qxe6,Rae1,Rfe8,Rh3,Ng4', 'Qh7+,Kf7,Qxg7#', 'https://lichess.org/training/RZwBF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('rZxR5', 'Rapid', 'hamza1997', 1638, 'Peshcoed', 1649, 'e4,c6,f4,d5,e5,Bf5,d4,e6,Bd2,Nd7,a3,a6,Bb4,c5,dxc5,Bxc5,Bxc5,Nxc5,Qd4,Bxc2,Qxc5,Rc8,Qb4,Be4,Nc3,Bf5,Qxb7,Ne7,Bxa6,O-O,Nb5,Rb8,Qa7,Nc6,Qf2', 'Qa5+,Qd2,Qxa6', 'https://lichess.org/training/rZxR5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s05dR', 'Classical', 'dz54', 1991, 'TacticalEngineering', 1856, 'f4,g6,g3,Bg7,d3,d5,Bg2,c5,e4,d4,Nf3,b6,O-O,Bb7,c3,Nc6,h3,Qd7,Re1,Rd8,c4,a5,Bd2,Nb4,Bxb4,axb4,Nbd2,f5,exf5,Qxf5,Nb3,Qc8,a3,bxa3,Rxa3,Nf6,Ra7,Rd7,Qa1,Nh5,Kh2,O-O,Nbd2,Qb8,Ng5,Nxf4,Rxb7,Rxb7,Bxb7,Nxd3,Bd5+,Kh8,Rf1,Bf6,Ne6,Re8,Ne4,Be5,Rf7,h5,Qf1,Bxg3+,Nxg3,h4,Rh7+,Kxh7', 'Qf7+,Kh6,Qg7#', 'https://lichess.org/training/s05dR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s05xk', 'Rapid', 'valmasia3', 1970, 'Tronquinho', 1725, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Nh6,O-O,Be7,d4,O-O,Bxf4,d6,Bxh6,gxh6,c3,Kh8,b4,Rg8,Bxf7,Rg7,Bb3,Bh3,Rf2,Bh4,Re2,Bg4,Nbd2,Bg5,Qf1,Bxd2,Rxd2,Qf6,Rf2,Rf8,Qd3,Bxf3,Rxf3', 'Qxf3,Qxf3,Rxf3', 'https://lichess.org/training/s05xk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s07nx', 'Rapid', 'Alfin25', 1677, 'Reiak', 1657, 'e4,e6,d4,d5,e5,c5,Bb5+,Nc6,Nf3,Bd7,Bg5,Qa5+,Nc3,Nxe5,Nxe5,Bxb5,Qf3,f6,Qh5+,Ke7,Qf7+,Kd6,Nf3,fxg5,Nxg5,Bd7,Qf4+,Kc6,dxc5,Nf6,O-O,Bxc5,Nf7,Rhf8,Ne5+,Kc7', 'Nc4+,Kc8,Nxa5', 'https://lichess.org/training/s07nx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s07uk', 'Rapid', 'donaldtrump811', 1787, 'IvanOdessa74', 1885, 'e4,e5,Nf3,d6,Nc3,a6,Bc4,h6,O-O,Nf6,d4,exd4,Nxd4,Be7,Re1,Nbd7,Nf5,Ne5,Bd3,Nxd3,Qxd3,O-O,Qg3,Bxf5,exf5,Kh8,Ne4,d5,Ng5,hxg5,Bxg5,Ne4', 'Qh4+,Kg8,Bxe7', 'https://lichess.org/training/s07uk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s0Aet', 'Rapid', 'CantusEx', 2126, 'Aleksey_Georgiev', 2194, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Nxf6+,Nxf6,Bd3,Bg4,c3,e6,h3,Bxf3,Qxf3,Be7,Bf4,Bd6,Bg5,Be7,O-O,O-O,Rae1,Qc7,Bf4,Bd6,Bg5,Be7,Re2,h6,Bxf6,Bxf6,Qe4,g6,Re3,Bg7,Rg3,Rad8,h4,h5,Rg5,Qd6,Rxh5', 'f5,Qf3,gxh5', 'https://lichess.org/training/s0Aet');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S0bjp', 'Rapid', 'shiitaco', 1956, 'jokohar', 1830, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nge7,O-O,O-O,d4,exd4,cxd4,Bb6,Nc3,Nb8,Bg5,c6,Ba4,Re8,Bc2,d6,Qd3,Qd7,Rad1,Ng6,Rfe1,Qg4,e5,Na6,a3,dxe5,Nxe5,Qxg5,Nxg6,Rxe1+,Rxe1,hxg6,Re8+,Kh7,h4,Qxh4,Qf3,Bg4,Qxf7,Rxe8', 'Qxg6+,Kh8,Qxe8#', 'https://lichess.org/training/S0bjp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S0bQ3', 'Rapid', 'StevenD56', 1859, 'Bonny-Abbas', 1826, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,a6,Ba4,O-O,h3,d5,exd5,Nxd5,Bxc6,bxc6,Nxe5,Qd6,d4,Ba7,Nd2,Re8,Ndc4,Qe6,Re1,Qf6,Ne3,Rb8,Nxd5,cxd5,b3,c5,Be3,cxd4,Bxd4,Rxe5,Bxa7,Rb7,Rxe5,Qxe5,Bd4,Qg5,Qf3,Re7,Be3,Qg6,Rd1,Bb7,Qg3', 'Qxg3,fxg3,Rxe3', 'https://lichess.org/training/S0bQ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S0ci1', 'Rapid', 'aquilesllanos700', 1947, 'Perihanna', 1865, 'e4,c5,f4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Bd7,d4,cxd4,Nxd4,a6,Be2,e6,O-O,Nf6,Kh1,Be7,Bf3,Nc6,Be3,O-O,a3,Rac8,Qd3,Nxd4,Bxd4,b5,Rad1,Bc6,Qe3,Qc7,Be5,Qb7,f5,Bxf3,Rxf3,exf5,Bxf6,Bxf6,Nd5,Bxb2,Qg5,Rxc2,Ne7+,Kh8,Rh3,Bf6', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/S0ci1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s0elc', 'Classical', 'teresa120', 1841, 'Veni13', 1869, 'e4,a6,d4,b5,a4,b4,c3,a5,Nf3,Bb7,Bd3,e6,O-O,h6,Be3,Nf6,Nbd2,c5,dxc5,Na6,cxb4,axb4,Nc4,Nxc5,Bxc5,Bxc5,Nfd2,Qc7,Nb3,Bxe4,Bxe4,Nxe4,Qf3,d5,Rfc1,Bxf2+,Kh1,O-O,Ncd2,Nxd2,Qxf2,Ne4,Qd4,Qb7,a5,e5,Nc5,exd4,Nxb7,d3,Kg1,Rfc8,Rd1,d2,Kf1,Rc2,a6,Rac8,a7,Rc1,a8=Q', 'Rxd1+,Rxd1,Rxa8', 'https://lichess.org/training/s0elc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S0GP3', 'Rapid', 'gu_semyon', 1718, 'Marioiko', 1718, 'd4,d5,Bf4,Bf5,e3,Nf6,c4,dxc4,Bxc4,e6,Nc3,Bd6,Nf3,Bxf4,exf4,O-O,O-O,Ne4,Qb3,b6,Bd3,Nd6,Bxf5,Nxf5,Rac1,Nxd4,Qc4,Nxf3+,gxf3,c5,Qe4,Na6,a3,Qe7,Nd5,Qb7', 'Nf6+,gxf6,Qxb7', 'https://lichess.org/training/S0GP3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s0i7X', 'Rapid', 'nefertiti14BC', 1845, 'KaranChess', 1866, 'e4,b6,Nf3,Bb7,Nc3,g6,Bc4,Bg7,Ng5,e6,d3,Ne7,Be3,d5,exd5,exd5,Bb3,h6,Nxf7,Kxf7,Qf3+,Kg8,Nb5,Nd7,c4,Ne5,Qg3,Nf5,Qh3,Nxd3+,Kd2,dxc4,Bxc4+,Kh7,Bxd3,Be4,Bf4,Qxd3+,Qxd3,Rad8,Qxd8,Rxd8+,Kc1,Bxg2,Rd1,Re8,a4,Bf3,Rg1,Re2,Nc3,Rxf2,Ra2,Nd4,Be3,Nb3+,Kb1,Bxc3,Bxf2', 'Be4#', 'https://lichess.org/training/s0i7X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S0L27', 'Rapid', 'Nerd11', 1824, 'XieDanke', 1944, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,bxc6,O-O,Bc5,f3,Ng5,f4,Ne4,c3,O-O,Nd2,Nxd2,Bxd2,Qe7,Kh1,f6,e6,Bxe6,Nxc6,Qd6,Nd4,Bf7,Nf5,Qd7,Qg4,Bg6', 'Nh6+,gxh6,Qxd7', 'https://lichess.org/training/S0L27');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s0NRx', 'Classical', 'Nix97000', 1614, 'pva_78', 1637, 'd4,d5,c4,e6,Nf3,dxc4,Nc3,Nf6,Bg5,h6,Bxf6,Qxf6,Qa4+,Nc6,Qxc4,Nb4,Qb3,c5,dxc5,Bxc5,Ne4,Qf5,Nxc5,Nc2+,Kd1,Nxa1,Qc3,O-O,e4,Qh5,Be2,b6,Nd3,Qa5,Nb4,Bb7,Nd2,Rad8,Bf3,f5,Re1,fxe4,Bxe4,Bxe4,Rxe4,Rxf2,Re2,Rxe2,Kxe2,Qb5+,Nd3,e5,b3,e4,Nxe4,a5,Nf2,Re8+,Kf1,a4,Qxa1,axb3,axb3,Qxb3,Qc1,Rf8,Kg1,b5,Nc5,Qd5,h3,b4,Qc2,Rc8,Nfd3,b3,Qxb3,Rxc5', 'Nxc5,Qxb3,Nxb3', 'https://lichess.org/training/s0NRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S0nsL', 'Classical', 'JupilerKnight', 1861, 'justin0999', 1877, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bb4,Nxc6,bxc6,Qd4,Bf8,Be3,Qa5,O-O-O,Nf6,e5,Bc5', 'Qxc5,Qxc5,Bxc5', 'https://lichess.org/training/S0nsL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s0O8p', 'Rapid', 'Naminator', 2375, 'marbo', 2296, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qa5,Bb5,a6,Bxc6+,bxc6,O-O,Bg4,h3,Bh5,Re1,e6,Qe2,Nf6,g4,Bg6,Ne5,Qc5,d4,Qxd4,Bg5,Bd6,Nxc6,Qb6,Ne5,Rd8,Bxf6,gxf6,Nd5,Qc5,Nxf6+,Ke7,Nxg6+,hxg6,Ne4,Qe5,Nxd6,Qxd6,Rad1,Qc6,Rxd8,Kxd8,Rd1+,Ke7,Qd3,Re8,Qa3+,Kf6,Qc3+,Qxc3,bxc3,Ke7,Rd4,Ra8,Kf1,c5,Rc4,Kd6,h4,Rh8,Ra4,Ra8,h5,gxh5,gxh5,Kc6,Rh4,Rh8,h6,Rh7,Ke2,f5,Kd3,Kd5,Ke3,e5,f3,f4+,Kd2,a5,Kc1,Kc4,Rh5,Kxc3,Rxe5,c4,Rxa5,Rxh6,Ra3+,Kb4,Ra8,Kc3,Ra3+,Kb4,Ra8,Rh2,Rf8,Kc3,Kd1,Rd2+,Ke1,Rxc2,Rxf4,Rxa2,Rf8,Kd3,Rd8+,Ke3,Rc8', 'Ra1#', 'https://lichess.org/training/s0O8p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s0OHn', 'Rapid', 'gidio', 1902, 'EvenPowerfulArk', 1886, 'e4,e5,Bc4,Nc6,Nf3,Bc5,c3,Nf6,d3,d6,O-O,Be6,Bxe6,fxe6,h3,O-O,Re1,Qd7,Nbd2,Rae8,Nf1,d5,Ng3,g6,d4,exd4,cxd4,Bb6,Bh6,Rf7,e5,Ne4,Nxe4,dxe4,Rxe4,Qd5,Rg4,Rd7,Qd3,Nxd4,Nxd4,Bxd4,Rxg6+,hxg6', 'Qxg6+,Kh8,Qxe8+', 'https://lichess.org/training/s0OHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S0RSV', 'Rapid', 'atlet-120507', 1867, 'Mohamed666666', 1805, 'd4,d5,c4,dxc4,e3,e6,Bxc4,Be7,Nf3,Nf6,Nc3,O-O,O-O,c6,Bd3,b5,a3,Bb7,b4,a6,Bb2,Bd6,Ne4,Nxe4,Bxe4,f5,Bd3,Nd7,h3,Nf6,Ng5,Qc7,Nxe6,Qe7,Nxf8,Rxf8,Bxf5,Nd5,Bd3,Qh4,Qg4,Qf6,Qe4,g6,Qg4,Bc8,Qe2,Qg5,f4,Qh4,Rac1,Bd7,Bxg6,hxg6,Qd3,Kh7,Qe2,Bc7,Rf3,Re8,Qf2,Qf6,h4,Re4,h5,Bg4,hxg6+,Qxg6,Rg3,Qh5,Rxc6,Re7,Rxa6,Kg7,Rc6,Kf8,Rc5,Qf5,e4,Qg6,Rxd5,Qxe4,Rxg4,Qxd5,Rg5,Qe4,g3,Qb1+,Kg2,Qe4+,Qf3,Qc2+,Qf2', 'Re2,Qxe2,Qxe2+', 'https://lichess.org/training/S0RSV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S0SAe', 'Classical', 'ppeter777', 1729, 'cortiz2022', 1835, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,d4,a6,Bxc6+,bxc6,dxe5,Nd7,exd6,cxd6,Bf4,Nb6,b3,Be7,Qd2,O-O,Rd1,Bg4,Bxd6,Bxd6,Qxd6,Bxf3,Qxd8,Raxd8,Rxd8,Rxd8,gxf3,f5,e5,f4,O-O,Re8,Re1,Re6,Re4,Nd7,Rxf4,Nxe5,Kf1,g5,Rf5,h6,f4,Nf3,fxg5', 'Re1+,Kg2,Nh4+,Kh3,Nxf5', 'https://lichess.org/training/S0SAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S0tan', 'Classical', 'Chesslegend2006', 2020, 'Dajrokan', 2028, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nb6,Nf3,c6,Nc3,Bg4,Be3,g6,h3,Be6,Ng5,Bxc4,Bxc4,Nxc4,Qb3,Nd6,Nce4,e6,Nxe6,fxe6,Qxe6+,Be7', 'Nf6+,Kf8,Bh6#', 'https://lichess.org/training/S0tan');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S0VTQ', 'Blitz', 'accuizon', 2390, 'FM Satscho', 2473, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,e4,d6,Be2,e5,O-O,Nc6,d5,Ne7,b4,a5,Ba3,axb4,Bxb4,b6,a4,Re8,a5,c5,dxc6,Nxc6,Qxd6,Nxb4,Qxb4,bxa5,Qb3,Nd7,Rfd1,Qc7,Nd5,Qa7,Qa4,Kf8,Qc6,Nc5,Nc7,Bb7,Qd6+,Kg8,Nxa8,Rxa8,Nxe5', 'Nxe4,Qd8+,Rxd8', 'https://lichess.org/training/S0VTQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s0xlt', 'Rapid', 'Umpolung', 1925, 'AlexChess05', 1925, 'e4,e6,d4,d5,e5,c5,Be3,cxd4,Bxd4,Nc6,c3,Nge7,Bd3,Ng6,Nf3,Qc7,Qe2,Be7,O-O,Bd7,a3,a6,b4,b5,h3,O-O,Bxg6,hxg6,Nh2,a5,Nd2,axb4,axb4,Rxa1,Rxa1,Nxd4,cxd4,Bxb4,Nb3,Bc3,Rc1,b4,Qd3,Qb6,Nf3,Rc8,Nc5,Bb5,Qe3,Bc4,Nd2,Bxd4,Qxd4,Qxc5,Qb2,Qb5,f4,Qc5+,Kh2,Qe3,Qxb4,Qxf4+,Kh1,Qxe5,Nxc4,Qf4,Rc3,Kh7,Rf3,Qxc4,Qe7,Qd4,Qxf7,Qe5,Rf1,Rc2,Qe7,Qe4,Qg5,d4,Rf4,Qe1+,Kh2,Rc8,Rxd4,e5,Rh4+,Kg8,Qg4,Rc1', 'Qe6+,Kf8,Rh8#', 'https://lichess.org/training/s0xlt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s0xMG', 'Rapid', 'Circassian17', 1826, 'Zampanato', 1805, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e6,Bg5,Be7,Bd3,O-O,Be3,Nc6,Nxc6,bxc6,Qd2,c5,O-O-O,Qc7,g4,Bb7,f3,d5,exd5,exd5,Bf4,Bd6,Bxd6,Qxd6,Be2,d4,Kb1,Qc7,Na4,Rfd8,Qd3,Bd5,Qa3,Nd7,Rhf1,a5,Bb5,Rac8,Bxd7,Rxd7,b3,Be6,f4,f6,Rde1,Bf7,Nb2,c4,Nxc4,Bxc4,bxc4,Qxc4,Qb3,a4', 'Re8+,Rxe8,Qxc4+', 'https://lichess.org/training/s0xMG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s106A', 'Rapid', 'hessonchess', 1647, 'leibek', 1653, 'c4,e6,Nf3,d5,cxd5,exd5,g3,c6,d4,h6,Bg2,Nf6,O-O,Bd6,a3,O-O,b4,a6,Re1,Re8,Nc3,Nbd7,Bb2,Nb6,Na4,Nc4,Bc3,Bd7,Ra2,b6,Qa1,c5,dxc5,bxc5,Nxc5,Bxc5,bxc5,Qc7,Bxf6,gxf6,Qxf6,Re6,Qd4,Qc6,Bh3,Re4,Bxd7,Qxd7,Qd3,Rae8,Nd4,Qc7,Nf5,Qxc5,Nxh6+,Kg7,Nf5+,Kg6,Qf3,Ne5,Nh4+,Kg7,Qh5,Ng6,Qg5,Qc4,Nf5+,Kg8,Qh6,Qc3,Raa1,Rxe2,Rxe2', 'Qxa1+,Kg2,Rxe2', 'https://lichess.org/training/s106A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s10y1', 'Rapid', 'mrtkmz', 1984, 'Belaya_Gvardiya', 2005, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,cxd6,Nc3,g6,Be3,Bg7,Bd3,O-O,Nge2,e6,O-O,e5,d5,f5,f4,e4,Bc2,Nxc4,Bc1,Nxb2,Bxb2,Qb6+,Kh1,Qxb2,Rb1,Qa3,Bb3,Na6,Qd2,Bd7,Rfc1,Rac8,g4,Nc5,Rc2,Nd3,g5,Nc5,Nd4,Nxb3,Rxb3,Qc5,Ne6,Bxe6,dxe6,e3,Qd3,d5,Rb5,Qd6,Rxd5,Qxe6,Rd6,Qe7,Nb5,Rxc2,Qxc2,e2,Qc4+,Kh8,Re6,Re8', 'Rxe7,e1=Q+,Rxe1,Rxe1+,Kg2', 'https://lichess.org/training/s10y1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s12FH', 'Classical', 'Elsabahy', 1787, 'Eyber', 1814, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,f4,e6,Be3,Be7,Be2,O-O,Qd2,Qc7,O-O-O,Rd8,g4,Nxd4,Bxd4,e5,Be3,Bxg4,Rhg1,Bxe2,Qxe2,Kh8,Qg2,Rg8,f5,b5,Qh3,b4,Nd5,Nxd5,exd5,Bf6,Rg3,Rac8', 'Qxh7+,Kxh7,Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/s12FH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S1EFI', 'Blitz', 'shahruh94', 2565, 'GM NguyenDucHoa', 2612, 'e4,c5,Nc3,a6,a4,Nc6,g3,g6,Bg2,Bg7,Nge2,Nf6,O-O,d6,d3,O-O,Be3,Rb8,Qd2,Ng4,Bf4,e5,Bg5,f6,Be3,Be6,Nd5,Ne7,h3,Nxe3,fxe3,f5,Nec3,Bh6,Qe2,Rf7,exf5,Nxf5,g4', 'Ng3,Qd2,Nxf1', 'https://lichess.org/training/S1EFI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s1FRr', 'Blitz', 'AayushB07', 1785, 'star2222', 1688, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d6,b3,e5,c3,Nf6,Re1,h6,h3,Be7,d4,cxd4,cxd4,exd4,Nxd4,O-O,Nxc6,Qc7,Nxe7+,Qxe7,Bb2,Nd7,Nc3,Ne5,Nd5,Qg5,Rc1,Bxh3,g3,Bg4,Qc2,Nf3+,Kg2,Nxe1+,Rxe1,Be6,Bc1,Qg4,Ne7+,Kh8,Bf4,Rac8,Qd2,Rce8,Qxd6,g5,Be5+,Kh7,Bf6,Qh3+,Kg1,Rd8,Qe5,Qh5,Bg7,Rg8,Nxg8,Rxg8,Bf6,Qf3,Re3,Qd1+,Kg2,Bh3+,Kxh3,Qh1+,Kg4', 'h5+,Kf5,Qh3+,g4,Qxg4#', 'https://lichess.org/training/s1FRr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s1KEG', 'Blitz', 'MiroslavK', 1908, 'civettadellenevi', 1901, 'e4,e6,e5,d5,exd6,Bxd6,d4,Nf6,Nf3,Nc6,Bd3,O-O,O-O,b6,a3,Bb7,c4,Re8,Be3,Bf8,Qc2,h6,Nc3,Ng4,Rad1,Nxe3,fxe3,g6,b4,Bg7,b5,Ne7,Ne5,c5,Nxf7,Qc7,Bxg6,Nf5,Bxf5,exf5,Rxf5,cxd4,exd4,Qxc4,Qd2,Bxd4+,Kh1,Qxc3,Nxh6+,Kh8,Nf7+,Kg8,Qg5+,Bg7,Nh6+,Kh8,Nf7+,Kg8,h4,Re7,Nh6+,Kh7,Qxe7', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/s1KEG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s1lPJ', 'Classical', 'hopala', 1627, 'objet-petit-zama', 1650, 'e4,c5,Nf3,Nc6,Bc4,g6,a3,Bg7,c3,e6,O-O,a6,d3,b5,Ba2,Nf6,Be3,d6,Nbd2,Ng4,Re1,Nxe3,fxe3,Ne5,d4,Nd3,Rf1,c4,b4,Bb7,Ne1,Nb2,Qb1,Na4,Qc2,a5,Nxc4,axb4,Bb3,bxc3,Bxa4,Rxa4,Qb3,Bxe4', 'Qxb5+,Kf8,Qxa4', 'https://lichess.org/training/s1lPJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s1MsK', 'Rapid', 'Korlemeciii', 1933, 'Rotan42', 1937, 'e4,g6,d4,Bg7,Nf3,e6,c4,Ne7,Nc3,b6,h3,O-O,Bf4,d6,Be2,Bb7,O-O,Nd7,Rc1,e5,dxe5,dxe5,Bh2,f6,Nd5,Nc6,b3,a5,a3,Nc5,Nd2,Nd4,f4,c6,Nc3,Ndxb3', 'Nxb3,Qxd1,Bxd1', 'https://lichess.org/training/s1MsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S1nNd', 'Blitz', 'rookie_knight99', 1542, 'Akira_Velozo', 1548, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,c6,Bd2,g6,d4,Bg7,Nf3,Nf6,Bd3,O-O,Ne4,Qd8,c3,Nbd7,O-O,Nxe4,Bxe4,f5,Bc2,Nf6,Bb3+,Kh8,Bg5,Ne4,Bf4,e5,Bxe5,Bxe5,Nxe5,Qe7,Re1,Be6,Bxe6,Qxe6,Nf3,Rae8,Ng5,Qe7,f3,Qxg5,fxe4,fxe4,Qb3,e3,Re2,Qf4,Qxb7,Rf7,Qxc6,Ref8,Rae1', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/S1nNd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S1Sag', 'Classical', 'pierro57', 1801, 'Morasa75', 1814, 'e4,c5,Nf3,d6,Bb5+,Nc6,O-O,Nf6,e5,dxe5,Nxe5,Bd7,Nxd7,Qxd7,Qf3,g6,d3,Bg7,c3,O-O,Re1,Rac8,Bg5,h6,Bh4,a6,Ba4,Rfe8,Nd2,Rcd8,Bc2,h5,Bxf6,Bxf6,Ne4,Ne5,Nxf6+,exf6,Qxf6,Nxd3,Rxe8+,Rxe8,Rf1,Nxb2,Bxg6,fxg6,Qxg6+,Kf8,Qxh5,Qf7,Qxc5+,Kg8,Qg5+,Qg7,Qh5,Re5,Qh3,Rg5,Qc8+,Kh7,g3,Nd3,Qh3+,Kg8,Qe6+,Kh8,Qe8+,Qg8,Qe4,Nc5', 'Qh4+,Qh7,Qxg5', 'https://lichess.org/training/S1Sag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S1TEd', 'Rapid', 'playerzen', 2034, 'cobraabro', 2083, 'd4,Nf6,c4,c5,d5,b5,b3,e6,dxe6,fxe6,Bb2,Be7,Nf3,O-O,g3,bxc4,bxc4,Ba6,Nbd2,d5,Bg2,Nbd7,Ng5,Qb6,Rb1,Qd6,Qa4,h6,Bxf6,Nxf6,Nh3,Rab8,O-O,Rb4,Qa3,dxc4,Ne4,Nxe4,Bxe4,Rfb8,Nf4,Bb7,Rfd1,Qe5,Bxb7,R8xb7,Rxb4,cxb4,Qa4,Kh7,Qe8,Qf5,Rd7,Rxd7,Qxd7,Qb1+,Kg2,Qe4+', 'f3,Qf5,Qxe7', 'https://lichess.org/training/S1TEd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s1UYg', 'Rapid', 'Cronos79', 1668, 'Dissident81', 1708, 'd4,Nf6,Nf3,g6,e3,Bg7,Bd3,O-O,O-O,d6,b3,Nbd7,Bb2,c5,c4,cxd4,Nxd4,e5,Nb5,Nc5,Be2,Ne8,Nd2,a6,Na3,f5,Bf3,e4,Bxg7,Kxg7,Be2,Qf6,Qc2,Be6,b4,Nd7,f3,exf3,Bxf3,Rb8,Bd5,Bxd5,cxd5,Ne5,e4,f4,Qb2', 'Nf3+,Nxf3,Qxb2', 'https://lichess.org/training/s1UYg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s1vdF', 'Rapid', 'eduizaguirre', 1718, 'samborin', 1655, 'e4,e6,e5,Nc6,d4,f6,Nf3,fxe5,Nxe5,Nxe5,dxe5,Ne7,g3,Nd5,f4,b6,Bg2,Bb7,c4,Bb4+,Bd2', 'Ne3,Bxb7,Nxd1', 'https://lichess.org/training/s1vdF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S1Via', 'Rapid', 'gholam918', 2129, 'Fionan', 2041, 'f4,d5,d4,Nf6,e3,Bf5,Bd3,Bxd3,Qxd3,e6,Nd2,a6,a3,c5,c3,Nc6,Ngf3,cxd4,exd4,Bd6,Ne5,O-O,O-O,Qb6,Kh1,Ne7,h3,Qb5,Qf3,Ne4,Nxe4,dxe4,Qf2,f5,Be3,Nd5', 'c4,Qb3,cxd5', 'https://lichess.org/training/S1Via');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S1wdR', 'Blitz', 'kattlez', 2025, 'LuisCasanovaTalca', 1948, 'e4,c6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,e6,Nf3,c5,Be3,Nc6,Bb5,cxd4,Nxd4,Nxd4,Bxd4,a6,Bd3,Bc5,Bxc5,Nxc5,O-O,Nxd3,Qxd3,Bd7,a4,Rc8,Kh1,O-O,Rf3,Qb6,Rh3,g6,b3,Qb4,Qd2,Bc6,Ne4,Qxd2', 'Nf6+,Kg7,Rxh7#', 'https://lichess.org/training/S1wdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s1We4', 'Rapid', 'BlackSilas', 1729, 'MrZaap', 1657, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Bb4,Bd3,Nxd4,Bg5,O-O,O-O,Bxc3,bxc3,Nc6,Re1,Ne5,f4,Nxd3,cxd3,h6,Bh4,d6,e5,dxe5,fxe5,g5,exf6,gxh4,Re7,Be6,Rxe6', 'fxe6,Qg4+,Kf7', 'https://lichess.org/training/s1We4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S1wk0', 'Rapid', 'Kazan2502', 2364, 'kurzeme', 2261, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Ne2,Bg4,O-O,Qc7,h3,Bh5,Qc2,Bg6,g3,Nd7,Bf4,Rfe8,Bxd6,Qxd6,Nf4,c5,dxc5,Nxc5,Bxg6,hxg6,Rad1,Qc6,Nd5,Ne6,h4,Rad8,c4,Rd7,b3,Red8,a4', 'Rxd5,Rxd5,Rxd5,cxd5,Qxc2', 'https://lichess.org/training/S1wk0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s1Ycw', 'Rapid', 'ScaredMartin', 1861, 'Johnny56', 2112, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,Bd2,Qc7,Bg5,Bg4,Be2,Nbd7,O-O,e6,Ne5,Bxe2,Qxe2,Bd6,Rfe1,O-O,Rad1,h6,Bh4,b5,Ne4,Nxe4,Qxe4,Rac8,Rd3,Bxe5,dxe5,Nc5,Qg4,Nxd3,Bf6,g6,cxd3,Qa5,Rf1,Qd2,f4,Qe3+,Rf2,Qxd3,Qh4,Kh7,Rf3,Qd4+,Kf1,Rcd8', 'Qxh6+,Kxh6,Rh3#', 'https://lichess.org/training/s1Ycw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2AlU', 'Rapid', 'josabandal', 1605, 'sleepyhallow', 1645, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,Nc3,Qf6,Be3,Nc6,Nxc6,Bxe3,fxe3,bxc6,Qd4,e5,Qd2,Ne7,Bc4,O-O,Rf1,Qg6,O-O-O,Kh8,Rf3,d5,exd5,Bg4,Rg3,cxd5,h3,dxc4,Rxg4,Qf6,Ne4,Qe6,Ng5,Qa6,Kb1,Nc6,Qd5,Rad8,Nxf7+,Rxf7', 'Qxd8+,Nxd8,Rxd8+,Rf8,Rxf8#', 'https://lichess.org/training/s2AlU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S2CF4', 'Blitz', 'rick_morty89', 2427, 'GoofyQuip', 2363, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Rg1,g6,g4,Bg7,g5,Nfd7,Be3,Nc6,Qd2,Nde5,Be2,Be6,Nxe6,fxe6,f4,Nf7,Bc4,Qd7,O-O-O,b5,Bb3,Na5,Kb1,Nxb3,cxb3,Nd8,Bd4,Bxd4,Qxd4,O-O,Rdf1,Nc6,Qd2,Rad8,h4,d5,e5,b4,Ne2,Qa7,Rg3,d4,h5,d3,Nc1,Nd4,hxg6,hxg6,Rh3,Nf5,Rfh1,Kf7,Rxd3,Rxd3,Qxd3,Qc5,Qc4,Qxc4,bxc4,Rd8,Rh7+,Ng7,Rh3,Rd4,Rf3,Rxc4,Nd3,Rd4,Kc2,Ne8,Kb3,Nc7,Nxb4,a5,Nc2', 'a4+,Ka3,Nb5#', 'https://lichess.org/training/S2CF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2CtR', 'Blitz', 'h3eletrica', 1565, 'omidtak1991', 1578, 'd4,d5,Nc3,c6,Bf4,a6,e3,Nf6,Bd3,e6,Nf3,Be7,Ne5,Nbd7,O-O,Nxe5,dxe5,Nd7,e4,d4,Ne2,c5,Ng3,Nb6,h3,O-O,Qg4,g5,Bd2,f6,exf6,Bxf6,Nh5,e5,Nxf6+,Qxf6,Qxg5+,Qxg5,Bxg5,Be6,Be2,Nd7,b3,b5,a4,bxa4,Rxa4,a5,Bd2,c4,Bxc4,Bxc4,bxc4,Nb6,Bxa5,Nxa4,Bb4,Rfc8,Ra1,Nb6,Rxa8,Nxa8,c5,Nc7,f3,Na6,c3,dxc3,Bxc3,Rxc5,Bb2,Rb5,Bc3,Nc7,Kf2,Ne6,Kg3,Nf4,Bxe5,Ne2+,Kf2,Rxe5,Kxe2,Kf7,Ke3,Kf6,g3,h5,g4,hxg4,hxg4,Ra5,Kf4,Kg6,e5,Kf7,Kf5,Ke7,f4,Kf7,g5,Ra6,Kg4,Kg6,f5+,Kf7,g6+,Kg7,Kg5,Ra5,f6+,Kf8,g7+,Kf7,Kf5,Ra8', 'e6+,Kg8,Kg6,Ra7,f7+,Rxf7,exf7#', 'https://lichess.org/training/s2CtR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2F82', 'Rapid', 'BXXL', 1766, 'Kapelu330', 1740, 'd4,d5,Nf3,e6,e3,a6,Be2,c5,a4,c4,b3,Qa5+,Bd2,Bb4,c3,Be7,bxc4,dxc4,Bxc4,Nf6,O-O,O-O,Bd3,Nc6,c4,Bb4,c5,Bxd2,Qxd2,Qxd2,Nbxd2,Bd7,Rfb1,Na5,Nc4,Nxc4,Bxc4,Bc6,Ne5,Be4,Rb6,Ra7,f3,Bc2,Ra2,Bg6,Rab2,Nd5,Bxd5,exd5,Rxb7,Rxb7,Rxb7,Bc2,a5,Ba4,c6,f6,c7,fxe5,Rb8,Bd7,Rd8,Bc8,Rxd5,exd4,Rxd4,h6,e4,Kh7,g3,Rf7,Rc4,Kg6,Kg2,Kf6,Rc6+,Ke7,e5,Kd7', 'e6+,Ke7,exf7', 'https://lichess.org/training/s2F82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S2FxE', 'Rapid', 'vitaly_236', 1853, 'AGMPrince_Dhindsa', 1872, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,a3,e5,Nc3,Nf6,d3,h6,f3,Bc5,Nge2,O-O,f4,exf4,Bxf4,Nd4,Nxd4,Bxd4,Qd2,Re8+,Kd1,Bg4+,Kc1,g5,Bg3', 'Be3,Qxe3,Rxe3', 'https://lichess.org/training/S2FxE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2Ghr', 'Rapid', 'tytarikyildirim', 1728, 'EmiRoR', 1656, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,Bg4,h3,Bxf3,Qxf3,Nf6,g4,Nd4,Qd1,h6,c3,Nf3+,Qxf3,Be7,h4,Qd7,g5,hxg5,hxg5,Rxh1+,Qxh1,Ng8,Qh8,O-O-O,Qxg7,Qg4,Bxf7,Qg1+,Kd2', 'Bxg5+,Kc2,Qxc1+', 'https://lichess.org/training/s2Ghr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S2h6w', 'Rapid', 'yura_kudr', 2129, 'justin3_tst', 2149, 'c4,e5,e4,Bc5,Nf3,d6,h3,Nf6,d3,O-O,Nc3,a6,Be2,Nc6,a4,Be6,Be3,Nd4,Bxd4,exd4,Nd5,c6,Nxf6+,Qxf6,O-O,Qg6,Kh2,f5,Nh4,Qf6,Nxf5,Bxf5,exf5,Qxf5,f4,Rae8,Bg4,Qf7,f5,d5,f6,dxc4,dxc4,Qxc4,f7+,Rxf7,Rxf7,Qxf7,Qd3,Qf4+,Kh1,Qe3', 'Qc4+,Kh8,Qxc5', 'https://lichess.org/training/S2h6w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2ivU', 'Rapid', 'tomcio1986', 2277, 'Crypton98', 2327, 'e4,e5,Nc3,Nf6,f4,d5,fxe5,Nxe4,Nf3,Be7,Qe2,Nxc3,dxc3,c5,Bf4,Nc6,Qe3,h6,h4,Be6,O-O-O,Qa5,a3,O-O-O,g3,d4,cxd4,cxd4,Qd2,Qd5,Bg2,Qa2,Qe2,d3,Rxd3,Bc4,Nd2,Bxd3,cxd3,Qe6', 'Bh3,Qxh3,Rxh3', 'https://lichess.org/training/s2ivU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2jbP', 'Blitz', 'Cent74', 1814, 'readyforhillary', 1817, 'e4,c5,Nf3,g6,c3,Nc6,d4,cxd4,cxd4,d5,e5,e6,Nc3,a6,a3,Nge7,b4,Nf5,Bg5,Qb6,Bf6,Rg8,Ng5,Ncxd4,Nxh7,Bh6,Ng5,Bd7,Bd3,Rc8,Ne2,a5,Nxd4,Nxd4,O-O,axb4,Rb1,b3,Rb2,Rc3,Qd2,Qc5,h4,b5,Kh1,b4,Ra1,bxa3,Rxa3,Bc6,Bf1,Kd7,Qf4,Qxa3,Qxd4,Qxb2', 'Qa7+,Bb7,Qxb7+,Rc7,Bb5#', 'https://lichess.org/training/s2jbP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2k6z', 'Classical', 'NikitaMorozov', 1703, 'avapan', 1692, 'd4,d5,Bf4,Nc6,e3,Bf5,Bd3,e6,c3,Nf6,Bxf5,exf5,Nd2,Ne4,Ngf3,Nxd2,Qxd2,Bd6,Bxd6,Qxd6,Qd3,O-O-O,Qxf5+,Qd7,Qxd7+,Rxd7,O-O-O,Re8,Rde1,f5,Ng5,h6,Nh3,g5,f3,g4,fxg4,fxg4,Nf2,h5,e4,dxe4,Nxe4', 'Rde7,Kd2,Rxe4,Rxe4,Rxe4', 'https://lichess.org/training/s2k6z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2Kho', 'Rapid', 'terry12344321', 1753, 'Yesovermass27', 2074, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,Nf6,h3,Bd7,O-O,Nd4,Nxd4,exd4,Ne2,Nxe4,Nxd4,Be7,Re1,Bc6,Nxc6,bxc6,Rxe4,d5,Rd4,Bc5,Rd3,Qf6,Bb3,Bxf2+,Kh1,O-O,Rf3,Qh4,d3,Rfe8,Qf1,Re1,Rxf2', 'Qxf2,Qxe1,Qxe1+', 'https://lichess.org/training/s2Kho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S2NqM', 'Blitz', 'albinkhalil', 1626, 'Kazzear', 1611, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Nxe4,Nxe4,Qe7,f3,d5,Nxc6,bxc6,Bd3,dxe4,Bxe4,f5,O-O,fxe4,Re1,Qc5+,Kh1,Be7,Rxe4,Bf5,Be3,Qd6,Rd4,Qe6,c3,Qxe3,Qb3,Bc5,Qb7,O-O,Rdd1,Rab8,Qxc6,Rxb2,Re1,Bh3,Rxe3', 'Bxg2+,Kg1,Bxe3#', 'https://lichess.org/training/S2NqM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2ozq', 'Classical', 'green-frog', 1681, 'sub50elo', 1651, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Nf3,Nc6,O-O,Be6,d4,Bd6,dxe5,Bxe5,Be2,O-O,Bg5,f6,Bd2,Bxb2,c4,Bxa1,cxd5,Qxd5,Na3,Qxa2,Qa4,Rad8,Rc1,Bb2,Rc2,Qxa3,Qe4,Bb3,Bc4+,Bxc4,Qxc4+,Rf7,Bc3,Rd1+,Be1,Kh8,Qxf7,Ne5', 'Qe8+,Qf8,Qxf8#', 'https://lichess.org/training/s2ozq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2qe2', 'Classical', 'fyermind', 1780, 'justan0ob', 1783, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,Be3,O-O,O-O,d6,d4,exd4,Nxd4,Nxd4,Bxd4,Nxe4,Qd3,Nf6,Nd2,c5,Bxf6,c4,Bxe7,Qxe7,Rae1', 'Qxe1,Rxe1,cxd3', 'https://lichess.org/training/s2qe2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2RnE', 'Rapid', 'AbdoAlgaml', 1843, 'davidosuna', 1847, 'e4,c5,Nc3,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,e5,Ng4,exd6,exd6,Be2,Ne5,O-O,Be7,Bf4,Bf6,Ne4,Be7,Bxe5,dxe5,Qxd8+,Bxd8,Nd6+,Ke7,Nxc8+,Rxc8,Rfe1,Bc7,Ba6,Rb8,b3,Rhe8,Rad1,Kf8,Rd7,Bb6,Bb7,Rbd8,Bxc6,Rxd7,Bxd7,Rd8,Bf5,Rd2,Rf1,g6,Bd3,f5,Kh1,e4,Bc4,Rxc2,a4,Ke7,g3,Bxf2,Bg8,Bb6,Rd1,Kf6,Bxh7,Kg7,Rd7+,Kh6,Bg8,Kg5,Bc4,Kg4,Rd6,Kf3,Rd1,e3,Rf1+,Kg4,Re1,Kh3,Bf1+,Kg4,Be2+,Kg5,Kg2', 'Ba5,Rh1,Rxe2+', 'https://lichess.org/training/s2RnE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S2vmW', 'Rapid', 'RADJA_NA_POGOS', 2217, 'GOMBOEVROMAN', 1729, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,a3,Nc6,O-O,Bd7,h3,Rc8,Nb3,Be6,Nd4,Nxd4,Bxd4,d5,e5,Nd7,f4,a6,Kh2,f6,Bf3,fxe5,fxe5,Nxe5,Bxe5,Bxe5+,Kh1,Bb8,Nxd5,Qd6,g3,Qxg3,Nxe7+,Kh8,Qe2,Qxh3+,Kg1,Ba7+,Rf2,Rxf3', 'Qe5+,Rf6,Qxf6#', 'https://lichess.org/training/S2vmW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S2XTn', 'Classical', 'roirichard', 1982, 'NEXXEF', 1910, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,d6,h3,Bg7,Nge2,e5,Nd5,Nge7,Nec3,O-O,O-O,Be6,d3,h6,f4,f5,g4,Kh7,gxf5,gxf5,Kh2,a6,Bd2,Rc8,Rg1,Nd4,Ne2,Bxd5,exd5,Ng6,c3,Nxe2,Qxe2,Qh4,Raf1,Rce8,Qf2,Qf6,Kh1,b5,fxe5,Rxe5,Bf4,Re7,Re1,Rfe8,Rgf1', 'Rxe1,Rxe1,Rxe1+', 'https://lichess.org/training/S2XTn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s2Y5u', 'Classical', 'Neomala', 1736, 'lessismoreogqv', 1774, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,c5,Bg5,Be7,dxc5,Nxc5,Bxf6,Bxf6,Qe2+,Qe7,Qb5+,Nd7', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/s2Y5u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S30a8', 'Rapid', 'ALFILx', 1727, 'Novemberrain', 1844, 'e4,e5,f4,exf4,Nf3,g5,Bc4,d6,O-O,Nc6,d4,g4,Ne1,f3,gxf3,h5,Nc3,f5,fxg4,hxg4,exf5,Qh4,Qe2+,Be7,Rf4,Bxf5,Bb5,Bd7,Nd5,O-O-O,Bxc6,bxc6,Qa6+,Kb8,Nxe7,Qxe1+,Rf1,Qxe7,Bf4,Nf6,b4,Nd5,Bg3,Nxb4,Rab1,Qe3+,Rf2,Qxd4,a3,c5,axb4,cxb4,Qa5,Rhf8', 'Rxb4+,Qxb4,Qxb4+', 'https://lichess.org/training/S30a8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s30pX', 'Rapid', 'apollo017', 1960, 'T42at4', 1798, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,g6,Be3,Bg7,Nc3,Ne7,h3,Nbc6,Nxc6,Nxc6,Qd2,Be6,Bd3,Qd7,Nd5,Ne5,Be2,c6,Nf4,O-O,Nxe6,Qxe6,f4,Nc4,Bxc4,Qxc4,c3,Qxe4,O-O,Rfe8,Rae1,Qc4,f5,d5,f6,Bf8,Bh6,Rxe1,Rxe1,Qh4,Bg5,Qc4,Bh6,Qc5+,Kh1,Bxh6,Qxh6,Qf8,Qf4,Re8,Rf1,h5,Qc7,Rb8,Re1,Re8,Re7,Rxe7', 'fxe7,Qe8,Qd8', 'https://lichess.org/training/s30pX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s35kS', 'Rapid', 'daimuadda19', 1765, 'Serrafus', 1813, 'd4,d5,c4,Nf6,Nc3,c6,Bg5,Bf5,e3,e6,a3,Be7,Nf3,Nbd7,cxd5,Nxd5,Bxe7,Nxc3,bxc3,Qxe7,Be2,O-O,O-O,Nf6,Qb3,Ne4,h3,c5,g4,Bg6,h4,h6,h5,Bh7,Kh2,b6,Rg1,Rac8,Bd3,Nxf2', 'Bxh7+,Kxh7,Qc2+,f5,Qxf2', 'https://lichess.org/training/s35kS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s3bUJ', 'Rapid', 'rgrueebler', 1691, 'ZaneNQV', 1654, 'd4,d5,Bf4,e6,Nf3,Nf6,Nbd2,c5,c3,cxd4,cxd4,Be7,Rc1,Nc6,e3,O-O,Bd3,Ne4,Nxe4,dxe4,Bxe4,Bb4+,Nd2,Bd6,Bxd6,Qxd6,O-O,f5,Nc4,Qd7,Bf3,Nb4,a3,Nd5,Ne5,Qe7,Rc4,b6,Qb3,Ba6,Nc6,Qf7,Ne5,Qe8,Rfc1,Bxc4,Rxc4,Rc8,h3,Rxc4,Qxc4,Qc8', 'Bxd5,Qxc4,Bxc4', 'https://lichess.org/training/s3bUJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s3eNE', 'Rapid', 'Matjushkin', 1897, 'nevind7', 1817, 'e4,e5,d4,exd4,Nf3,Nc6,Nxd4,d5,exd5,Qxd5,Be3,Bb4+,c3,Ba5,Nd2,Bb6,N2f3,Nf6,b3,Bg4,Bc4,Qd7,O-O,O-O,Qe2,Rae8,Rad1,Nxd4,cxd4,Ne4,Qc2,Bxf3,gxf3,Nd6,Bd3,h6,Kh1,Qh3,Qe2,Nf5,Rg1,Nxd4,Rg3,Qxg3,Bxd4,Rxe2,hxg3,Bxd4,Bxe2,Bxf2,Kg2,Bb6,Bc4,Re8,Rd7,Kh8,Rxf7,Re1,Rf8+,Kh7,Bg8+,Kg6,Bd5,Re2+,Kh3,Re5', 'Be4+,Rxe4,fxe4', 'https://lichess.org/training/s3eNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S3HOA', 'Rapid', 'renalo', 1963, 'Diakonov', 2087, 'e4,Nc6,f4,g6,d4,Bg7,c3,d5,e5,h5,Be3,Bg4,Be2,Bxe2,Nxe2,e6,Qc2,Nge7,Nd2,Nf5,Bf2,O-O,O-O-O,Na5,h3,c5,g4,hxg4,hxg4,Nh6,Rdg1,b5,dxc5,Nc4,Bd4,Qa5,Kb1,b4,Nb3,Qb5,Qd3', 'Na3+,Ka1,Qxd3', 'https://lichess.org/training/S3HOA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S3ipD', 'Rapid', 'Sawyer209', 1792, 'E_Onegin', 1681, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,Bc4,c6,dxc6,Nxc6,O-O,Bd6,Ng5,O-O,d3,Bg4,Qe1,h6,Nxf7,Rxf7,Bxf7+,Kxf7,Bxf4,Bxf4,Rxf4,Qb6+,Kh1,Qxb2,Nc3,Re8,Qb1', 'Qxc3,Qb3+,Qxb3', 'https://lichess.org/training/S3ipD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s3Kdq', 'Rapid', 'Abdul_Kadir', 2083, 'asep_laptop', 2026, 'd4,Nc6,e3,e5,Nf3,e4,Nfd2,d5,Nc3,Nf6,Be2,a6,Nb3,Bd6,Bd2,O-O,O-O,Ne7,f4,exf3,Bxf3,c6,e4,dxe4,Nxe4,Nxe4,Bxe4,Ng6,Qh5,Be6,c3,Bc4,Rf2,a5,Bg5,Qc7,Nd2,Be6,Bd3,b5,Ne4,Be7,Bxe7,Qxe7,Ng5,h6,Nxe6,Qxe6,Raf1,Ne7,h3,Nd5,Re2,Qd6,Qf5,g6,Qg4,Kg7,Rfe1,Nf4,Re3,Nxd3,Rxd3,Rae8,Rde3,Rxe3,Rxe3,Qd5,a3,h5,Qe2,a4,Re5,Qa2,Kh2,Qb1,d5,cxd5,Rxd5,Qc1,Qe5+,Kg8,Rxb5,Rd8,Qf6,Qd2,Rb7,Rf8,Rb4,Qd1,Qd4,Qc2,c4,Re8,c5,Rc8,Rc4,Qf5,c6,Qe6,c7,Qe7,Qc5,Qd7,Qc6,Qe7,Re4,Rxc7', 'Qa8+,Kg7,Rxe7', 'https://lichess.org/training/s3Kdq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S3LzQ', 'Blitz', 'CM artsportscience', 2312, 'Lieches691', 2309, 'e4,d5,exd5,Qxd5,Nf3,Qd8,Be2,c6,O-O,Nf6,Nc3,Bf5,d3,e6,Be3,h6,h3,Be7,Nd4,Bg6,Nf3,O-O,Qd2,Nbd7,Rad1,Nb6,b3,Bb4,Qe1,Nbd5,Bd2,Nxc3,Bxc3,Bxc3,Qxc3,Nd5,Qd2,Bh5,Ne5,Bxe2,Qxe2,Nc3,Qf3,Nxd1,Rxd1,Qd5,Qg3,Rad8,Ng4,Kh8,Re1,Qd6,f4,Qd4+,Kh2,Qc3,Re5,Qxc2,Rh5,Qxd3,Qh4,Kg8,Nxh6+,gxh6,Rxh6,Rd4,Rh8+,Kg7', 'Qh6#', 'https://lichess.org/training/S3LzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s3Ngv', 'Rapid', 'Giano182', 1659, 'ernkya97', 1635, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Bb5,a6,Bxc6+,bxc6,Nc3,c5,dxc5,Bxc5,a3,Ne7,b4,Bb6,Qe2,O-O,Nf3,Qc7,Na4,Ba7,Be3,Bxe3,Qxe3,Bd7,Nc5,Bb5,Rc1,Qa7,a4,Bc4,Nd2,Nf5,Qc3,a5,Nxc4,axb4,Qxb4,Rab8,Qa3,dxc4,Rxc4,Rfc8,O-O,Nd4,Rxd4,Rxc5,Rfd1,g6,Rd7,Rc7,Rxc7,Qxc7,Qd6,Qa7,h3,Kg7,Qd7,Rb7,Qe8,Qa5,f4,Qc5+,Kh1,Qe3,Qc6,Rb2,Qc4,Qg3,Rg1,Rf2,Qc6,Rxf4,a5,Rh4,Qf3', 'Rxh3+,gxh3,Qxf3+', 'https://lichess.org/training/s3Ngv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s3nhv', 'Blitz', 'emmanuel-gladiador1', 1662, 'paulovalpo', 1719, 'e4,e5,Nf3,d6,Nc3,h6,d4,a6,dxe5,Nc6,exd6,Bxd6,Bd3,Bg4,O-O,Qe7,Be3,O-O-O,Re1,Ne5,Nd5,Nxf3+', 'gxf3,Qh4,fxg4,Qxh2+,Kf1,Qh3+,Ke2', 'https://lichess.org/training/s3nhv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s3oGg', 'Blitz', 'VfL1848', 2301, 'IM Patzel', 2528, 'e4,d5,d4,dxe4,Nc3,Nf6,f3,Bf5,fxe4,Nxe4,Qf3,Nxc3,bxc3,Qc8,Bc4,e6,Ne2,Bd6,O-O,O-O,Bb3,Nc6,Ng3,Bg6,Ne4,Na5,Ba4,a6,Nxd6,cxd6,Bf4,Rd8,h4,h5,Bg5,b5,Bxd8,Qxd8,Bb3,Rc8,a4,Nc6,axb5,axb5,Qg3,b4,d5,exd5,Bxd5,Ne5,c4,Qb6+,Qf2,Qxf2+,Rxf2,Nxc4,Ra7,Ne5,Rb7,Rxc2,Rxc2,Bxc2,Rxb4,Bg6,Rb6,Ng4,Rxd6,Nf6,Bc4,Kf8,Ra6,Kg8,Ra7,Ng4,g3,Ne3,Be2,Nf5,Kf2,Nd4,Bf3,Ne6,Ke3,Kf8,Bd5,Nd8,Kf4,Ke8,Bc4,Kf8,Ra8,Ke7,Bb5,Ne6+,Ke5', 'f6+,Kd5,Nc7+', 'https://lichess.org/training/s3oGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S3oQI', 'Rapid', 'br12', 1922, 'paulopk7', 1906, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,Nxc6,bxc6,Nc3,Nf6,Bc4,O-O,O-O,Bb7,Qd2,d5,exd5,cxd5,Bb3,Ne4,Nxe4,dxe4,Qxd8,Rfxd8,Rab1,e6,c3,Bd5,c4,Bc6,c5,a5,Bc4,Bd5,Bxd5,exd5,Rfd1,d4,Bf4,Rd5,c6,Rc5,c7,Rc8,Rbc1,Rxc1,Rxc1,h6,Rc6,g5,Bd6,d3,Kf1,Bf8,Bg3,f5,Be5,Kf7,Rb6,Bg7', 'Rb8,Rxc7,Bxc7', 'https://lichess.org/training/S3oQI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s3oxK', 'Blitz', 'L1eur', 1581, 'grappy2', 1547, 'e4,c5,Bc4,d6,Bxf7+,Kxf7,Nf3,Nc6,Ng5+,Ke8,f4,Nf6,O-O,g6,Nc3,Bg7,d4,cxd4,Nd5,Bg4,Nxf6+,Bxf6,Qxg4,Qb6,f5,d3+,Kh1,dxc2,fxg6,Ne5,Qe6,hxg6,Rxf6,Qd4,Bf4', 'Qd1+,Rxd1,cxd1=Q#', 'https://lichess.org/training/s3oxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S3uHJ', 'Blitz', 'G_su', 1630, 'DaniDanielo', 1639, 'd4,d5,Nf3,Nc6,Bf4,Nf6,e3,a6,c3,Bf5,Bd3,Qd7,Bxf5,Qxf5,Bxc7,g6,Nbd2,Bg7,Bf4,O-O,O-O,Qh5,Qb3,e6,Qxb7,Na5,Qb4,Ng4,Qxa5,e5,Nxe5,Bxe5,Bxe5,Nxe5,dxe5,Qxe5,Nf3,Qe4,Rfd1,Rfd8,Rd4,Qf5,Rad1,Qc2,Rxd5', 'Qxd1+,Rxd1,Rxd1+,Ne1,Rxe1#', 'https://lichess.org/training/S3uHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S3vnw', 'Blitz', 'Altruist83', 1866, 'vitsky2020', 2240, 'e4,c5,Nc3,d6,Nf3,a6,d4,cxd4,Nxd4,Nf6,Bc4,e6,O-O,Be7,f4,O-O,e5,dxe5,fxe5,Nfd7,Nf3,Qc7,Bf4,Qxc4,Bg3,Nc6,Nd2,Qd4+,Bf2,Qxe5,Nf3,Qh5,Ne4,Nf6,Ng3,Qa5,c3,Bc5,b4,Bxf2+,Kxf2,Qc7,Kg1,b5,Nh4,Bb7,Rxf6,gxf6,Nh5,Qe5', 'Qg4+,Qg5,Nxf6+,Kh8,Qxg5', 'https://lichess.org/training/S3vnw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S3XKJ', 'Rapid', 'vodanhtu1', 1630, 'Masha1709', 1706, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bg5,Qb6,Bb5,a6,Bxc6+,bxc6,Rb1,h6,Bxf6,gxf6,h3,Rg8,g3,e6,Nf3,Be7,a3,Bb7,Qe2,c5,O-O,Kd7,Rfd1,h5,e5,d5,exf6,Bxf6,Ne5+,Ke7,Qxh5,Bxe5,Qxe5,Rh8,h4,Rag8,Kf1,a5,Ke1,Rg4,Kd2,Rd4+,Kc1,Rxd1+,Kxd1,d4,Na4,Bf3+,Kc1,Qd8,Qxc5+,Ke8,Qb5+,Kf8,Kd2,d3,Qxd3,Qa8,Nc3,Kg7,Re1', 'Rd8,Qxd8,Qxd8+', 'https://lichess.org/training/S3XKJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s3y4M', 'Rapid', 'Newman7777777', 1996, 'CrazyPatryk', 2024, 'e4,e5,d3,Nc6,f4,d5,exd5,Qxd5,fxe5,Nxe5,Nc3,Qa5,Bd2,Bg4,Be2,Bxe2,Qxe2,O-O-O,O-O-O,Bd6,a3,Bxa3,Nb1,Bb4,Bxb4,Nxd3+,Rxd3,Qxb4,Nf3,Nf6,Rhd1,Rxd3,Qxd3,a6,Ne5', 'Qf4+,Nd2,Qxe5', 'https://lichess.org/training/s3y4M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S3ZLJ', 'Blitz', 'itsmenickyt', 1605, 'ksvn24', 1600, 'd4,d5,Bf4,g6,Nc3,Bg7,e4,e6,Nf3,Ne7,e5,b6,Bb5+,Nd7,Bg5,a6,Bc6,Rb8,Qd2,O-O,Bxd7,Qxd7,Bh6,Nf5,Bxg7,Kxg7,O-O,c5,Ne2,c4,b3,b5,bxc4,dxc4,c3,Bb7,Qf4,Bd5,a3,Qc6,Ng3,Bxf3,gxf3,f6,Nxf5+,exf5,Kh1,fxe5,dxe5,Rfe8,Rg1,Rf8,Rg3,Rbe8,Rh3,Qc7,Qh6+,Kf7,f4,Rh8', 'Qxh7+,Rxh7,Rxh7+,Ke6,Rxc7', 'https://lichess.org/training/S3ZLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s3ZQz', 'Rapid', 'daniel921126', 1784, 'VJS', 1877, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Bd3,a6,a4,c5,dxc5,Bxc5,Nf3,Qc7,Qe2,Bb4,Bd2,Nc6,O-O,Ncxe5,Kh1,Nxf3,Qxf3,Ne5,Qg3,Bd6,Qxg7,Rf8,Bh6,Nxd3,cxd3,Be5,Qxh7', 'Rh8,Qxh8+,Bxh8', 'https://lichess.org/training/s3ZQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S41zV', 'Rapid', 'arniches', 1892, 'Xilften1', 1913, 'e4,g6,d4,Bg7,c3,d6,Na3,Nf6,Bd3,e5,d5,O-O,Ne2,Na6,b4,c6,Bxa6,bxa6,c4,Nxe4,O-O,f5,Rb1,cxd5', 'Qxd5+,Be6,Qxe6+', 'https://lichess.org/training/S41zV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S42Gh', 'Rapid', 'alsing', 1740, 'Doriangray74', 1654, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Bg4,O-O,Nd7,d4,Ngf6,e5,dxe5,dxe5,Bxf3,Rxf3,Nxe5,Qe1,Bc5+,Kh1,O-O,Qxe5,Re8,Qxc5,Ne4,Qd5,Nd6,Rxf4,Nxc4,Qxc4,Re1+,Rf1,Qd1,Nd2,Rae8,Qxf7+,Kh8,Rxe1', 'Rxe1+,Nf1,Rxf1+,Qxf1,Qxf1#', 'https://lichess.org/training/S42Gh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S43Q9', 'Rapid', 'taylorSwizzle', 1629, 'manuelmmauk', 1641, 'e4,Nf6,e5,Nd5,c4,Nb6,Nc3,d6,Nf3,e6,Be2,dxe5,Nxe5,c5,O-O,Be7,Re1,O-O,b3,Bf6,Ng4,Bxc3,dxc3,Nc6,Bb2,a6,Qc2,Qg5,Bc1,Qe7,Bb2,a5,Bd3,g6,Ne5,Nxe5,Rxe5,Nd7,Re2,b5,cxb5,Bb7,c4,Qg5,Be4,Bxe4,Rxe4,Rfe8,Rd1,f5,Re2,Nb6,Rde1,Rad8,Rxe6,Rxe6,Rxe6,Rd2,Qc1,Qf4,Qe1,Rxb2,Rxb6,Rxa2,Re6,Qd4,h3', 'Ra1,Qxa1,Qxa1+', 'https://lichess.org/training/S43Q9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s4AjN', 'Rapid', 'hunbee', 1752, 'Berat616161', 1782, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,Bxf7+,Ke7,O-O,Qxe5,Bxg8,Rxg8,c3,Nc6,d4,Qb5,Na3,Qa6,Bg5+,Ke8,Qh5+,g6,Qxh7,Rg7,Qh4,Bxa3,bxa3,Qxa3,Qh8+,Qf8,Qh4,Qf7,e5,Rh7,Qe4,Qf5,Qe3,Rh5,Bf6,Na5,Qe2,Kf7,Qb2,b6,Qb5,d6', 'Qd5+,Qe6,Qxa8', 'https://lichess.org/training/s4AjN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S4aqD', 'Classical', 'dimanik', 1655, 'Vijayemandi', 1691, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd2,Bxc3,Bxc3,d5,cxd5,exd5,Nf3,Re8,Bd3,Bg4,O-O,Nbd7,h3,Bh5,Be2,c5,b3,Ne4,Bb2,Rc8,Rc1,h6,Nh2,Bxe2,Qxe2,a6,Nf3,b5,dxc5,Ndxc5,Bd4,Ne6,Bb2,Qa5,Ba1,Nc3,Bxc3,Rxc3,Rxc3,Qxc3,Rd1,Kf8,Rxd5', 'Nf4,Qd1,Nxd5', 'https://lichess.org/training/S4aqD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S4dyr', 'Rapid', 'marwan-essa', 1921, 'taha888', 2085, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nb6,Nc3,e6,Nf3,Bb4,Be2,O-O,O-O,Nc6,Ne4,f5,Bg5,Be7,Bxe7,Qxe7,Nc5,Nd7,Nd3,e5,dxe5,Ncxe5,Ndxe5,Nxe5,Qd5+,Nf7,Rfe1,Rd8,Qb5,a6,Qb3,Be6,Qc3,Nd6,b3,Ne4,Qe3,Qa3,Bd3,Nc5,Bc2,Re8,Qf4,g6,Ng5,Re7,Re3,Qb2,Rae1,Qxc2,Nxe6,Nxe6,Qh4,Rae8,g4,fxg4,Qxg4,Qf5,Qg3,Nf4,Rxe7,Rxe7,Rxe7', 'Qb1+,Re1,Qxe1#', 'https://lichess.org/training/S4dyr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s4g4e', 'Rapid', 'Szuuha', 2139, 'foytik', 2156, 'e4,d6,d4,Nf6,Nc3,a6,Be3,e6,f3,b5,Qd2,Nbd7,O-O-O,Bb7,Kb1,Nb6,Qf2,b4,Nce2,d5,e5,Nfd7,f4,c5,dxc5,Na4,Nf3,Ndxc5,Nfd4,Ne4,Qe1,Bc5,Ng3,Nec3+,bxc3,Nxc3+,Ka1', 'Qa5,Qxc3,bxc3', 'https://lichess.org/training/s4g4e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s4GxH', 'Classical', 'Wakanda_warrior', 1804, 'Zeyad2019', 1831, 'e4,e6,d4,d5,exd5,exd5,c4,dxc4,Bxc4,Nf6,Nf3,Bd6,O-O,O-O,Nc3,Nbd7,Bg5,h6,Bh4,g5,Bg3,Bxg3,fxg3,Nb6,Bb3,a5,Qd3,a4,Qg6+,Kh8,Qxh6+,Nh7,Nxg5', 'Qxg5,Qxg5,Nxg5', 'https://lichess.org/training/s4GxH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S4Hfc', 'Rapid', 'ehv', 1947, 'oliverK0308', 1749, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,Be3,e6,Ndb5,O-O,Nd6,Qa5,O-O,Rd8,f4,Bf8,e5,Bxd6,exd6,b6,f5,exf5,Bg5,Qc5+,Kh1,Qxc4,Bxf6,Qe6,Bxd8,Nxd8,Re1,Qf6,Nd5,Qg5,Qd4,f6,Re8+,Kg7,Rxd8,Bb7,Rxa8,Bxa8,Re1,h5,Re7+,Kh6,Nf4,Qg4,Qf2,g5,Nd3,f4,h3,Qf5,Qe1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/S4Hfc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s4Llq', 'Blitz', 'jkzitr2499', 1813, 'santomi', 1751, 'e4,c5,b3,Nc6,d3,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Qxc3+,Bd2,Qe5,Nf3,Qc7,O-O,Nf6,Re1,e6,Ng5,Bd6,g3,h6,Ne4,Nxe4,dxe4,O-O,Bd3,Ne5,Qc1,Kh7,f4,Nxd3,cxd3,e5,f5,b6,g4,f6,h4,Be7,Re2,Qd8,Rg2,Bd7,g5,fxg5,hxg5,h5,g6+,Kh8,Rh2,h4,Bh6,Bxf5,exf5,Rxf5,Rb1,Qxd3,Rbb2,Qg3+,Rbg2,Qf3,Rf2,Qg4+,Rhg2,Qd4,Be3,Qd7,Rd2,Qe6,Qd1,Raf8,Rdf2,Rxf2', 'Qh5+,Kg8,Qh7#', 'https://lichess.org/training/s4Llq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s4mwr', 'Rapid', 'jkt1995', 1826, 'Tpike', 1970, 'e4,Nc6,d4,e5,d5,Nce7,Bg5,h6,Bh4,g5,Bg3,Ng6,Nf3,Nf6,Nc3,Bb4,Bd3,Bxc3+,bxc3,d6,c4,O-O,O-O,b6,h4,g4,Nh2,h5,f4,exf4,Bxf4,Ne5,Bg5,Ned7,Qd2,Qe7,Bh6,Qe5,Rf5,Qd4+,Kf1,Nxe4,Rg5+,Kh8,Bg7+,Kh7,Rxh5+,Kxg7', 'Qh6+,Kg8,Qh7#', 'https://lichess.org/training/s4mwr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S4NJ4', 'Blitz', 'pikus2', 1806, 'AGURA-10', 1617, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,g3,Bd6,Bg2,c6,Nge2,O-O,O-O,Re8,h3,Bf5,Bf4,Qd7,Kh2,Ne4,Bxd6,Nxc3,Nxc3,Qxd6,Qd2,Nd7,Rae1,Nf6,Re3,Ne4,Nxe4,Bxe4,Bxe4,Rxe4,Rxe4,dxe4,c4,f5,f3,exf3,Rxf3,g6,a3,Re8,Re3,Re6,Rxe6,Qxe6,b3,b6,d5,cxd5,cxd5,Qd6,Kg2,Kf7,b4,h6,Qd4,g5,Kf3,a6,a4,b5,axb5,axb5,Qa7+,Kg6,Qc5,g4+,hxg4,fxg4+,Kg2,Qd7', 'Qc6+,Qxc6,dxc6,Kf5,c7', 'https://lichess.org/training/S4NJ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S4opz', 'Blitz', 'FM Papaanni', 2291, 'Yaourter', 2235, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Nc3,Bb4,Bd2,O-O,O-O-O,Re8,Qg3,Rxe4,a3,Bxc3,Bxc3,Rg4', 'Bxf6,Rxg3,Bxd8', 'https://lichess.org/training/S4opz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s4rj0', 'Blitz', 'Briberry', 1524, 'CostaTiago98', 1522, 'e4,g6,d4,Bg7,Nf3,c5,c3,e6,Bd3,Ne7,Be3,cxd4,Bxd4,Bxd4,cxd4,d5,e5,O-O,Qd2,f6,Qh6,Nf5,Bxf5,exf5,exf6,Rxf6,Ng5,Qe7+,Kf1,Bd7,Nc3,Bc6,Re1,Qc7,Nxd5,Bxd5', 'Re8+,Rf8,Rxf8#', 'https://lichess.org/training/s4rj0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s4ru1', 'Blitz', 'elfixxx7', 2049, 'mafioso_1', 2311, 'e4,c5,Nf3,e6,g3,Nc6,Bg2,Nf6,Nc3,e5,O-O,d6,d3,Be7,Nd2,O-O,h3,Rb8,a4,b6,Nc4,a6,Ne3,b5,axb5,axb5,Ncd5,Nxd5,Nxd5,Bg5,f4,exf4,gxf4,Bh6,c3,b4,Qe1,Be6,Ne3,bxc3,bxc3,Bd7,Bd2,g6,Nc4,Qe7,Qg3,Rfc8,Rf2,Be6,Ne3,Rb2,Raf1,Bb3,Bc1,Rxf2,Qxf2,Qd8,c4,Nd4,Nd5,Ra8,Be3,Ra2,Bxd4,Rxf2,Bxf2,Bg7,Rc1,Qa5,Be1,Bd4+,Kh1,Qa2,e5,dxe5,fxe5,Bxe5,Bh4,Bc2,Nf6+,Kg7,Nd7,Bd4,Be4,f5,Bxf5,gxf5,Re1,Bxd3,Re7+,Kg6', 'Nf8+,Kh6,Rxh7#', 'https://lichess.org/training/s4ru1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S4ues', 'Rapid', 'jundow', 1682, 'platecom', 1645, 'b3,e5,Bb2,Nc6,e3,a6,Qf3,d5,a3,Nf6,Nc3,d4,Ne4,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/S4ues');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S4XTU', 'Rapid', 'Suprayitno', 1885, 'i-one_14', 1750, 'd4,d5,Nf3,c5,e3,cxd4,Nxd4,e5,Nf3,Nc6,c3,Nf6,h3,e4,Nd4,Nxd4,cxd4,Bb4+,Bd2,Qa5,Be2,Bd7,O-O,Ba4,b3,Bxd2,Nxd2,Bb5,Bxb5+,Qxb5,Qc2,O-O,a4,Rfc8', 'Qxc8+,Rxc8,axb5', 'https://lichess.org/training/S4XTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S4ydE', 'Rapid', 'hexale73', 1605, 'jhufgty', 1762, 'g3,d5,Bg2,e5,b3,e4,e3,Nc6,Bb2,h5,h3,Nf6,Ne2,Bd6,d3,Ne5,Bxe5,Bxe5,Nbc3,Qe7,O-O,b5,Rb1,Ba6,d4,Bd6,Re1,Rd8,Ra1,c5,a3,cxd4,Nxd4,Bxa3,Nc6,Qc5,Nxd8,Kxd8,Ne2,b4,Nf4,Ke7,f3,g5,Ne2,exf3,Bxf3,g4,Bg2,gxh3,Bxh3,Qxe3+,Kg2,Qe4+,Kf2,Ng4+,Kg1', 'Qe3+,Kh1,Nf2+,Kg2,Nxd1', 'https://lichess.org/training/S4ydE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s5244', 'Classical', 'SylvC', 1699, 'blinderhan', 1622, 'e4,c5,Nf3,d6,Bc4,Bd7,d4,b5,Bd5,Nc6,dxc5,dxc5,O-O,e6,Bxc6,Bxc6,Qxd8+,Rxd8,Re1,Nf6,Bg5,Be7,Nc3,b4,Bxf6,Bxf6,e5,Be7,Ne4,O-O,Rad1', 'Rxd1,Rxd1,Bxe4', 'https://lichess.org/training/s5244');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S55dx', 'Rapid', 'basscanon', 1614, 'tomsevans8', 1612, 'e4,e5,Nf3,Nc6,Nc3,Bb4,a3,Bxc3,bxc3,Nf6,d4,Nxe4,d5,Ne7,c4,c6,Bd3,Nc5,d6,Ng8,Be3,Qa5+,Bd2,Qb6,Nxe5,Nxd3+,cxd3,Qd4,Qe2,Qxa1+,Qd1,Qxe5+,Be3,Qxd6,O-O,Nf6,Re1,O-O,Qf3,Qxd3,Rd1,Qxc4,Qg3,Qb3,Rc1,Qxa3,Bh6,Nh5,Qxa3,gxh6,Qa5,Nf6,Qf5,Kg7,Rc3,d5', 'Rg3+,Ng4,Rxg4+,Kh8,Qf6#', 'https://lichess.org/training/S55dx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s5CJv', 'Classical', 'Avyanshah', 2019, 'billytechno', 1908, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Ngf6,Nc3,a6,Nd5,Nxe4,Qe2,Nef6,Bg5,h6,Bxf6,Nxf6,Nxf6+,Qxf6,Qe4,Rb8,O-O-O,Be7,Qa4+,Kf8,Qc4,g6,Nd2,Qg5,Qc7,Kg7,g3,Rhc8,Qa5,Rc5,Qa4,d5,h4,Qf5,c3,Bd8,f4,e4', 'Qd4+,Bf6,Qxc5', 'https://lichess.org/training/s5CJv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S5gAk', 'Classical', 'mgglass', 1886, 'joelchess', 1793, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,bxc6,Bd3,g6,O-O,Bg7,c3,Ne7,Bg5,O-O,Nd2,Rb8,Rb1,c5,Bc4,Be6,Qa4,Qd7', 'Qxd7,Bxd7,Bxe7', 'https://lichess.org/training/S5gAk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S5GnO', 'Blitz', 'peenmachine', 1835, 'MaudeLebowski', 1860, 'e4,e5,Nf3,d6,d4,exd4,c3,dxc3,Bc4,Be6,Bxe6,fxe6,Nxc3,e5,O-O,Nf6,Bg5,Be7,Qb3,Qc8,Rac1,Nc6,Bh4,Ng4,Bxe7,Kxe7,Ng5,Rf8,Nd5+,Kd7,Nxh7,Rh8,Ng5,Nxh2,Nb6+,axb6', 'Qe6+,Kd8,Nf7#', 'https://lichess.org/training/S5GnO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s5hLU', 'Rapid', 'pk50', 1838, 'mrbickle', 1786, 'e4,c5,Nf3,g6,c3,Bg7,Be2,Nc6,d3,d5,exd5,Qxd5,c4,Qd8,Nc3,Qa5,Bd2,Qd8,O-O,Nf6,h3,O-O,Qc1,Bf5,Ne4,Nxe4,dxe4,Bxe4,Ng5,Bf5,Bg4,Bxg4,hxg4,Nd4,Kh1,e5,Be3,Bf6,Ne4,b6,Nxf6+,Qxf6,Bg5,Qg7,Bh6,Qf6,Bxf8', 'Qh4+,Kg1,Ne2#', 'https://lichess.org/training/s5hLU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s5jCX', 'Rapid', 'MEKKAWI97', 1790, 'adomas26', 1776, 'e4,e5,Bc4,Nf6,d3,h6,Nf3,Nc6,Nc3,a6,O-O,Na5,Bb3,Nxb3,axb3,Bc5,Nxe5,d6,Nf3,Bg4,h3,Bh5,Qe1,Bxf3,gxf3,Nh5,Nd5,O-O,Kh2,c6,Ne3,Qh4,Nf5,Qf6,Rg1,d5,Bxh6,Bd6+,Nxd6', 'Qxd6+,e5,Qxh6', 'https://lichess.org/training/s5jCX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S5kDb', 'Blitz', 'leobenitez', 1781, 'stefon42', 1734, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,d5,exd5,exd5,Bb5,Nf6,O-O,Be7,Re1,O-O,d4,a6,Ba4,b5,Bb3,Bg4,h3,Bh5,g4,Bg6,Bg5,Re8,Ne5,Qb6,Nxg6,hxg6,dxc5,Bxc5,Bh4,g5,Bg3,Ne4,Qxd5,Bxf2+,Kg2,Bxe1', 'Qxf7+,Kh8,Qh5#', 'https://lichess.org/training/S5kDb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s5L4T', 'Rapid', 'KIDFIRE', 1973, 'jaybird', 2033, 'd4,d5,Nf3,Nf6,Bg5,e6,e3,Be7,Bd3,Nbd7,c3,b6,Qc2,Bb7,Nbd2,a5,O-O-O,Rc8,Bxf6,Nxf6,a3,O-O,Rdg1,c5,g4,cxd4,exd4,g6,h4,Bd6,h5,Bf4,hxg6,fxg6,Bxg6,Bxd2+,Nxd2,hxg6', 'Qxg6#', 'https://lichess.org/training/s5L4T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S5Ott', 'Rapid', 'smiara', 1937, 'MMM1984', 1819, 'c4,Nf6,d4,d5,Nc3,e6,Bg5,Bb4,Qb3,Nc6,e3,Qe7,a3,Bxc3+,Qxc3,h6,Bh4,O-O,Nf3,g5,Nxg5,hxg5,Bxg5,Ne4', 'Bxe7,Nxc3,Bxf8', 'https://lichess.org/training/S5Ott');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s5raQ', 'Blitz', 'DEATH_ADDER_THE_KING', 2152, 'FM Reynold9402', 2279, 'e4,b6,d4,Bb7,Nc3,e6,f4,Bb4,Nf3,Bxe4,Bd3,Bxd3,Qxd3,f5,d5,Nf6,dxe6,dxe6', 'Qb5+,Qd7,Qxb4', 'https://lichess.org/training/s5raQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s5t1U', 'Rapid', 'eadwine', 2072, 'Andrej_Minjevic', 2091, 'e4,e6,d4,d5,Nd2,c5,Ngf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,b3,Be7,Bb2,O-O,c4,Rfc8,cxd5,exd5,Nf3,Rd8,Re1,Rac8,Rc1,Rxc1,Qxc1,Ne4,Qe3,Re8,Rd1,Bf6,Bxf6,Nxf6,Qd4,Re2,a4,Qe7,Kf1,Rc2,Re1,Qb7,Qd3,Rb2,Nd4,Ne4,Re2,Qc7,Rc2,Rxc2,Nxc2,Qxh2,Qxd5', 'Qh1+,Ke2,Nc3+', 'https://lichess.org/training/s5t1U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s5tAi', 'Blitz', 'Thierry028', 1607, 'diimax', 1954, 'd4,Nf6,Bf4,d6,e3,g6,Nc3,Bg7,e4,Nbd7,Be3,O-O,f3,c6,Qd2,d5,e5,Ne8,h4,Nb6,h5,Nc4,Bxc4,dxc4,hxg6,fxg6,Bh6,Rf7,Bxg7,Rxg7,Qg5,Nc7,Nge2,Nd5,Nxd5,cxd5,Nf4,Qa5+,c3,Bf5,Rh4,Qb6,Nxd5,Qxb2,Nxe7+,Kf8,Rd1,Qxc3+,Kf2,Rxe7,Rdh1,Qc2+,Kg3,h5,Rf4,Ke8,Qh6,Kd7,Qg5,Rf8,d5,Qxa2,e6+,Kd6,Rd4,b5,Qf4+,Kc5,d6,Rxe6,d7,Rd8,Qc7+,Rc6,Qxd8,Kxd4,Qf6+,Rxf6,d8=Q+,Kc5,Qxf6,Kb4,Re1,a5,Qe7+,Ka4,Re3,b4', 'Qe8+,Bd7,Qxd7#', 'https://lichess.org/training/s5tAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S5TNz', 'Blitz', 'ivanchopov', 2150, 'javierches', 2100, 'Nf3,Nf6,g3,d5,Bg2,c5,d3,Nc6,Nbd2,e5,O-O,Be7,e4,d4,Nc4,Qc7,a4,Bg4,h3,Be6,Ne1,O-O,f4,exf4,gxf4,g6,Qf3,Nh5,Bd2,Bh4,f5,Bg3,fxe6,fxe6,Qg4,Bh2+,Kh1,Ng3+,Kxh2', 'Nxf1+,Kg1,Qh2#', 'https://lichess.org/training/S5TNz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S5WhH', 'Rapid', 'vn-yar', 1994, 'Strorob55', 1959, 'Nf3,f5,d4,Nf6,Nc3,e6,Bg5,d5,e3,Be7,h4,O-O,h5,Ne4,Bxe7,Qxe7,Bd3,Nd7,a3,c5,dxc5,Ndxc5,h6,g6,Ne5,Nxc3,bxc3,Qf6,f4,Nd7,O-O,Nxe5,fxe5,Qxe5,c4,Qxe3+,Rf2,Qxh6,cxd5,exd5,Bb5,a6,Qxd5+,Kh8,Bc4,Qg7,Re1,Qd7,Qe5+,Qg7,Qd6,Qd7,Qe5+,Qg7,Qc5,b5,Bd5,Rb8,Re7,Qf6,Qc7,Qh4,Qxb8,Qxe7,Qb6,Rd8,c4,Qd6', 'Qd4+,Qf6,Qxf6#', 'https://lichess.org/training/S5WhH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S5zB5', 'Blitz', 'BlindBlunder', 1761, 'londoner501', 1767, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bf4,Be6,Rc1,Bb4,e3,Bxc3+,Rxc3,c6,Nf3,O-O,Be2,Nbd7,O-O,Ne4,Rc1,Ndf6,Ng5,h6,Nxe6,fxe6,Qb3,Qd7,Rfd1,g5,Be5,Kh7,Rc2,Qf7,Qd3,Nd7,f3,Nxe5,dxe5,Kh8,fxe4,dxe4,Qxe4,Qf2+,Kh1,Qf7,Bd3,Rad8,Rcd2,Rxd3,Rxd3', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/S5zB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S60gT', 'Classical', 'milum', 1865, 'anwuman', 1930, 'e4,e6,d4,d5,exd5,exd5,Bf4,Nf6,Bd3,Nc6,c3,Bg4,Ne2,Bd6,Bxd6,Qxd6,O-O,O-O,f3,Bd7,Re1,Rfe8,Nd2,Re7,Qc2,Rae8,b4,h6,Nb3,Nh5,Qd2,Re3,Kf2,Nf4', 'Nxf4,Rxe1,Rxe1', 'https://lichess.org/training/S60gT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s69R2', 'Blitz', 'JuanMariaTancredi', 1730, 'prajakt123chess', 1733, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,e6,Bb5,Bd7,O-O,Nf6,Re1,a6,d5,Ne5,Bxd7+,Nfxd7,Nxe5,Nxe5,f4,Ng6,Be3,Be7,dxe6,fxe6,f5,exf5,exf5,O-O,fxg6,hxg6,Nc3,Bf6,Qg4,d5,Bc5,d4,Bxf8,dxc3,bxc3,Bxc3,Rad1,Qb6+,Kh1,Bxe1,Rxe1,Rxf8,Qc4+,Rf7', 'Re8+,Kh7,Qh4#', 'https://lichess.org/training/s69R2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S6aLm', 'Blitz', 'ziuvic', 1881, 'X4RY2', 1711, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,g6,e3,Bg7,Bd3,Nbd7,O-O,Qc7,cxd5,Nxd5,e4,Nxc3,bxc3,O-O,e5,f6,Bf4,fxe5,Nxe5,Nxe5,Bxe5,Bxe5,dxe5,Qxe5,Qc2,Bf5,Rae1,Bxd3,Qxd3,Qf6,Re3,Rad8,Qc2,e5,Qb3+,Kh8,Qxb7', 'Qxf2+,Rxf2,Rd1+,Re1,Rxe1+,Rf1,Rfxf1#', 'https://lichess.org/training/S6aLm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S6bo9', 'Rapid', 'Botan81', 1998, 'zayin', 2039, 'e4,c5,c3,g6,Nf3,Bg7,Bc4,Nc6,d4,cxd4,cxd4,d6,Ng5,e6,Bb5,a6,Bxc6+,bxc6,Qf3,f5,e5,dxe5,Qxc6+,Bd7,Qd6,Qe7,dxe5,Qxd6,exd6,Bb5,Nc3,Bxc3+,bxc3,Kd7,c4,Bxc4,Bb2,h6,Bxh8,hxg5,Be5,Nh6,Rc1,Rc8,Rb1,Bd5,O-O,Nf7,f4,Rc2,Rf2,Rc4,g3,gxf4,gxf4,g5,Rb6,a5,Ra6', 'Rc1+,Rf1,Rxf1+,Kxf1,Bc4+,Kg2,Bxa6', 'https://lichess.org/training/S6bo9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s6bPG', 'Rapid', 'typhon7', 1693, 'NoMouth', 1724, 'e4,d5,Nf3,dxe4,Ng5,Qd5,d3,Nf6,Nc3,Qe5,Ngxe4,Bg4,Be2,Bxe2,Qxe2,Nc6,Be3,O-O-O,a3,e6,a4,Nxe4,Nxe4,Qxb2,O-O,Bd6,Rfb1,Qe5,Nxd6+,Rxd6,Rb5,Qf6,Rab1,b6,Qd2,Rd5,c4,Rxb5,cxb5,Nd4,a5,Nf5,Bg5,Qg6,Bf4,Nh4,Bg3,Nf5,Bxc7,Kxc7,Qf4+,Kd7,Rc1,Rc8,Rxc8,Kxc8,Qc4+,Kd8,axb6,axb6,Qc6,Qf6,Qxb6+,Kd7,Qc6+,Ke7,g3,Qa1+,Kg2,Nd4,Qc7+,Kf6,b6,Qa8+', 'b7,Qxb7+,Qxb7', 'https://lichess.org/training/s6bPG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S6gGw', 'Rapid', 'sergey1529', 1895, 'bamsemann', 2039, 'e4,d6,Nf3,e5,Nc3,Bg4,Be2,Nf6,h3,Bh5,d4,Nbd7,Bg5,Be7,dxe5,Nxe5,Bxf6,Bxf6,Nxe5,Bxe5,Bxh5,Bxc3+,bxc3,Qf6,Qd4,Qg5,Bf3,O-O,O-O,f5,Qd5+,Kh8,exf5,Rxf5,Qxb7,Raf8,Bg4,Rf4,Qxa7,h5,Bd7,R8f6,Rae1,Rg6,g3,Rf3,Re3,Rf7,Bc8,h4,Qd4,hxg3,Rxg3,Qh6,Rxg6,Qxg6+,Qg4,Qh7,Bf5,Rxf5,a4,g6,Kg2,Qe7,Qxg6', 'Rg5+,Qxg5,Qxg5+', 'https://lichess.org/training/S6gGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S6OGr', 'Rapid', 'navid777', 1727, 'sakkariini', 1816, 'e4,Nf6,e5,Nd5,Nf3,d6,Bb5+,c6,Bc4,Nb6,Bxf7+,Kxf7,Ng5+,Kg8,Qf3,Qe8,e6,h6', 'Qf7+,Qxf7,exf7#', 'https://lichess.org/training/S6OGr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s6oIB', 'Rapid', 'MarinaUr', 1873, 'TheKing888', 2022, 'e4,e6,d4,d5,exd5,exd5,Be3,h6,Nf3,Nf6,Bd3,Bd6,O-O,O-O,h3,b6,c4,c5,dxc5,bxc5,cxd5,Bb7,Bc4,Nbd7,Re1,Nb6,b3,Nbxd5,Bc1,Nb6,Nh4,Nxc4,bxc4,Ne4,Nf5,Be5,Nd2,Nxd2,Rxe5', 'Nf3+,Qxf3,Bxf3', 'https://lichess.org/training/s6oIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s6SAX', 'Rapid', 'leo_rubol', 1675, 'RAFA3L', 1690, 'd4,Nf6,e3,d5,Nf3,e6,c4,c6,Nc3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,Ne4,Bb4,Re8,Bd3,a5,Bc3,Nxc3,bxc3,Nd7,Qc2,Nf6,O-O,Bd7,Ne5,Ne4,f3,Nf6,c5,g6,f4,Ne4,Rf3,f6,Ng4,h5,Nf2,f5,Be2,Kf7,Rb1,Rb8,Rb6,Rg8,Nxe4,dxe4,Rg3,h4,Rg5,Rh8,h3,Qc7,Qb3,Ke7,Rxg6,Rhg8,Rxg8,Rxg8,Rxb7,Qd8,Qa4,Rxg2+,Kxg2,Qg8+,Kh2', 'Qg3+,Kh1,Qe1+,Bf1,Qxf1+', 'https://lichess.org/training/s6SAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s6Spj', 'Rapid', 'Misk123', 2221, 'tremorX', 2215, 'd4,Nf6,h3,g6,Nf3,Bg7,Bf4,d5,e3,O-O,Bd3,c5,c3,Nc6,dxc5,Nh5,Bh2,e5,Bb5,Re8,g4,e4,Nd4,Bxd4,cxd4,Ng7,Nc3,Ne6,Qb3,Ncxd4,exd4,Nxd4,Qxd5,Qxd5,Nxd5,Nxb5,Nf6+,Kf8,a4,Re6,Nd5,Nd4,Nc7,Nc2+,Kd2,Nxa1,Rxa1,Rf6,Bd6+,Rxd6+,cxd6,Rb8,Re1,f5,gxf5,Bxf5,Ke3,Rd8,Rd1,Kf7,h4,Kf6,Kf4,h6,Nd5+,Ke6,Ne3,Rxd6', 'Rxd6+,Kxd6,Nxf5+,gxf5,Kxf5', 'https://lichess.org/training/s6Spj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s6u6O', 'Rapid', 'SyndicateKingPH77', 1647, 'adarshkr532', 1676, 'e4,e6,d4,d5,exd5,exd5,h3,Nf6,Nf3,Bf5,Be3,Bd6,c4,c5,Nc3,Be7,dxc5,Nbd7,Qd2,Ne4,Qxd5,Nxc3,Qxf5,Na4,b3,Naxc5,Rd1,Ne6,Ne5', 'Qa5+,Bd2,Qxe5+,Qxe5,Nxe5', 'https://lichess.org/training/s6u6O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s6wlr', 'Rapid', 'javad20002', 1615, 'theplayer16', 1666, 'e4,e5,g4,Nf6,f3,d6,g5,Nh5,Nc3,Qxg5,d4,Qh4+,Ke2,Nf4+,Bxf4,Qxf4', 'Nd5,Qh4,Nxc7+,Kd8,Nxa8', 'https://lichess.org/training/s6wlr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S6YLE', 'Rapid', 'Pawn_knight_22', 1755, 'JDK_13', 1715, 'd4,e5,e3,e4,f3,d5,c4,f5,c5,Nc6,f4,b6,b4,bxc5,bxc5,Bb7,Bb5,a6,Bxc6+,Bxc6,Nc3,Nf6,Rb1,Rb8,Rxb8,Qxb8,Ba3,g6,h3,Bg7,g4,O-O,g5,Nh5,Nge2,Rd8,h4,Bb5,Nxb5,Qxb5,O-O,c6,Qc2,Rb8,Nc3,Qa5,Bc1,Ng3,Rd1', 'Qxc3,Qxc3,Ne2+,Kf1,Nxc3', 'https://lichess.org/training/S6YLE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s6ZM8', 'Rapid', 'arilico', 1690, 'ryanyeh58', 1702, 'e4,e5,Bc4,Bc5,Qf3,Nf6,h4,O-O,Nh3,c6,Ng5,d5,exd5,cxd5,Bb5,a6,Ba4,b5,Bb3,e4,Qg3,Bd6,f4,h6,d4,Nc6,Be3,Ng4,c3,Nxe3,Qxe3,Be6,Qg3,Qf6,Nh3,Bxh3,gxh3,Bxf4,Qg4,Na5,Bxd5,Rad8,Bb3,Nxb3,axb3,Rfe8,Rf1,g5,hxg5,Qxg5,Qxf4,e3,Qxf7+,Kh8,Na3,Qh4+,Ke2,Qxh3,Qf6+,Kh7,Qf5+,Qxf5,Rxf5,Rd7,Nc2,Kg6,Nxe3,Rxe3+,Kxe3,Kxf5,Rxa6,Re7+,Kd3,h5,Ra5,Rb7,c4,Kf4,d5,h4,d6,h3,Rxb5', 'Rxb5,cxb5,h2,Kc3,h1=Q', 'https://lichess.org/training/s6ZM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s72iQ', 'Rapid', 'alfeo', 1698, 'RamadanHasani', 1663, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d3,a6,Be3,Bb4,Qd2,O-O,a3,Bd6,O-O,Na5,Ba2,b6,b4,Nc6,Nd5,Bb7,c4,Nxd5,cxd5,Ne7,Bxh6,Ng6,Be3,c6,dxc6,Bxc6,Rfc1,Rc8,Bc4,b5,Bb3,Qe7,Bc5,Bxc5,Rxc5,a5,Rac1,a4,Ba2,Qd6,Bd5,Nf4,Bxc6,dxc6,Nxe5,Ne6,Nxc6', 'Nxc5,bxc5,Qxc6', 'https://lichess.org/training/s72iQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S745h', 'Rapid', 'Circassian17', 1705, 'MJR81', 1623, 'e4,e5,Nf3,Nc6,Bb5,a6,Bc4,Be7,d3,Nf6,Ng5,O-O,Bxf7+,Rxf7,Nxf7,Kxf7,c3,b5,Qf3,b4,Bg5,bxc3,Nxc3,Nd4,Qd1,h6,Be3,Rb8,Bxd4,exd4,Na4,Bb4+,Kf1,d6,b3,Rb5,Kg1,Rg5,h3,Bb7,Qc1,d5,f3,dxe4,dxe4,d3,Qc4+,Kg6,Qxb4,d2,Rd1,Qd3,Qxd2,Qxf3,e5', 'Rxg2+,Qxg2+,Qxg2#', 'https://lichess.org/training/S745h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s74O3', 'Rapid', 'eliseoluque', 1757, 'EdGiddyMan', 1729, 'Nc3,d5,f4,Nf6,Nf3,Bg4,e3,e6,Be2,Nc6,a3,a6,O-O,Bd6,d4,Ne4,Ne5,Bxe2,Nxe2,Bxe5,fxe5,O-O,Rf3,Na5,b3,Qh4,Ng3,Nc3,Qe1,Ne4,Qxa5,b6,Qe1,Ng5,Rf4,Qh6,e4,c6,exd5,cxd5,Ne2,Rac8,Rg4,Qg6,Rxg5,Qxc2,Qd2,Qxb3,Nf4,Rc2,Qd1', 'Rxg2+,Kxg2,Qxd1', 'https://lichess.org/training/s74O3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s78nC', 'Classical', 'AUMSKT', 1692, 'L0o0ser', 1613, 'd4,d5,c4,Nf6,Nc3,a6,Nf3,dxc4,a3,b5,Bg5,Nd5,e4,Nxc3,bxc3,h6,Be3,a5,h3,Bb7,d5,c6,Be2,cxd5,exd5,Bxd5,O-O,e6,Nd4,Qd7,Rb1,Bc6,Nf3,Bxa3,Qxd7+,Nxd7,Nd4,Ne5,Nxb5,Bxb5,Rxb5,Bd6,Bc5,Bxc5,Rxc5,Nd7,Rc7,Nb6,Bxc4,Nxc4,Rxc4,O-O,Ra1,f5,g3,Rfe8,f4,g5,Kf2,g4,hxg4,fxg4,Raa4,Kg7,Ke3,Kf6,Re4,Rec8,c4,Rc5,Kd4,Rac8,Re5,Rxe5,fxe5+,Kf5,Rxa5,h5,c5,h4,gxh4,Kf4,Ra1,Rd8+,Kc4,g3,h5,Kxe5,h6,Rh8,Rg1,Kf4,c6,Rxh6,Kb5,e5,Kb6,Kf3,Kb7,g2,c7,Rh7,Kb8,Kf2', 'Rxg2+,Kxg2,c8=Q', 'https://lichess.org/training/s78nC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s7B9z', 'Rapid', 'PawnInBoots', 1721, 's7serg', 1605, 'd4,d5,Bf4,Nf6,e3,Nc6,Nf3,e6,c4,Bb4+,Nc3,O-O,a3,Bxc3+,bxc3,Ne4,Qc2,Na5,cxd5,exd5,Bd3,Bf5,O-O,Nc4,Nh4,Be6,Nf3,Bf5,Ne5,Nxe5,Bxe5,c6,f3,Qg5,fxe4,Qxe3+,Qf2,Qxd3,Qxf5,dxe4,Qg5,f6,Bxf6,Rxf6,Rxf6,Qxc3,Qc5,Qxa1+,Rf1,Qc3,Qe7,Qe3+,Kh1,Qxd4', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/s7B9z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s7BGE', 'Blitz', 'FM VLABOR64B', 2122, 'R_Mata_16_Maragusan', 2129, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Be7,Bg5,O-O,e3,c6,Rc1,h6,Bh4,Nbd7,a3,Re8,Bd3,dxc4,Bxc4,b5,Bd3,a6,O-O,Bb7,Qe2,c5,Rfd1,Qb6,Bb1,Rac8,h3,Red8,Ne5,cxd4,exd4,Qd6,Bg3,Qb6,Bh4,Nf8,Bxf6,Bxf6,Ne4,Bxe5,dxe5,Rxc1,Rxc1,Qd4,Nd6,Ba8,Rd1,Qb6,Qh5,Rd7,Rc1,Ng6,Bxg6,fxg6,Qxg6,Bc6,Qe8+,Kh7,Nf7', 'Rd1+,Rxd1,Bxe8', 'https://lichess.org/training/s7BGE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s7bnc', 'Blitz', 'Vinnjeh', 1869, 'zapatilla', 1876, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,d6,b3,Nf6,Nc3,Be7,Bb2,Bg4,Bd3,Bxd1,Rxd1,O-O,f4,h6,Nf3,Qd7,O-O,Qg4,g3,Nh5,Rd2,Nxf4,Nd4,Nxd3,Rxd3,Bf6,Nf5,Ne5,Rd2,h5,Rdf2,g6', 'Nh6+,Kh7,Nxg4,Nxg4,Rxf6,Nxf6,Rxf6', 'https://lichess.org/training/s7bnc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s7hVo', 'Rapid', 'OlegShakh', 1605, 'martinchaide', 1698, 'd4,e5,Nf3,exd4,Nxd4,d5,e3,Nf6,Bd3,Nc6,c3,Nxd4,cxd4,Bb4+,Nd2,Bg4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/s7hVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S7JI4', 'Classical', 'Kareemkamel2012', 1809, 'chessplayer2504', 1913, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb3,Be6,Bb5+,Nd7,Nc3,a6,Be2,Ngf6,Bg5,Qb6,Qd2,h6,Be3,Qc7,Nd5,Bxd5,exd5,Ne4,Qd3,f5,Bh5+,g6,Bxg6+,Ke7,Bxf5,Nec5,Nxc5,Nxc5,Bxc5,Qxc5,Be6,Kd8,O-O,Be7,Qg6,Kc7,Qg7,Rae8,c4,Qd4,b3,Qh4,g3,Qg5,Qxg5,hxg5,Kg2,Bf6,Rac1,b6,f4,gxf4,gxf4,Ref8,fxe5,Bxe5,Rxf8,Rxf8,h3,Bd4,Rf1,Rxf1,Kxf1,Bf6,Kg2,b5,cxb5,axb5,Kg3,Kb6,h4,Kc5,h5,Kb4,Kg4,Ka3,h6,Kxa2,Kf5,Bh8,Kg6,Kxb3,Kf7,b4,Kg8,Be5,h7,Kc4,h8=Q,Bxh8,Kxh8,b3,Kg7,b2,Bf5,Kxd5,Kf6,Kc4,Ke6', 'd5,Bb1,d4,Kf5,d3', 'https://lichess.org/training/S7JI4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s7JT3', 'Blitz', 'Nodiko', 2174, 'IM Gannikus', 2350, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,c5,g3,b6,Bg2,Bb7,O-O,O-O,a3,Bxd2,Qxd2,d6,Nc3,Nbd7,Rfd1,Qe7,d5,e5,e4,Rae8,Nh4,g6,Qg5,Nh5,Qxe7,Rxe7,Nb5,Ba6,Nxd6,Rd8,a4,Nb8,Nb5,Ng7,Bh3,Bc8,Bxc8,Rxc8,a5,f5,exf5,gxf5,axb6,axb6,Ra8,Rf8,Rda1,Nd7,Rxf8+,Nxf8,Ra7,Rxa7,Nxa7,Nd7,Nb5,Kf7,Kg2,Kf6,Kf3,e4+,Ke3,Ke5,f4+,Kf6,Ng2,Ne8,Ne1,Nb8,b3,Na6,Nc2,h5,h4,Ke7,Nc3,Nd6,Na2,b5,Na3,bxc4,Nxc4,Nb4,Nxb4', 'Nxc4+,bxc4,cxb4', 'https://lichess.org/training/s7JT3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S7JW0', 'Blitz', 'zakaria81', 1631, 'reyvaj63', 1606, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,Nc6,O-O,Na5,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/S7JW0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S7mvo', 'Rapid', 'Ikaria2017', 1881, 'xx0XX0xx', 1686, 'c4,e5,Nc3,Bc5,e3,Nc6,Nf3,d6,d4,exd4,exd4,Bb4,d5,Qe7+,Be3,Ne5,Be2,Bxc3+,bxc3,h6,O-O,Bf5,Qd4,b6,Nh4,Bh7,Rfe1,g5,Nf3,O-O-O,Nd2,Nf6,f4,Neg4,Bxg4+,Nxg4,Bf2,Qf6,Qxf6,Nxf6,Bd4,Rhe8,Bxf6,Rxe1+,Rxe1,Rg8,fxg5,hxg5,Re7,Bg6,Bxg5,Rh8,Bf6,Rh5,Re8+,Kd7,Ra8,a5,Bd4,Bd3,Ra7,Kc8,Ra8+,Kb7,Rf8,f5,Rh8,Rg5,Kf2,Rg4,g3,f4,Kf3,Bf5,gxf4,Rg1,Rf8,Bg4+,Kf2,Rd1,Be3,Ra1,Kg3,Bc8,f5,Rxa2,Kf4,Rc2,Ne4,a4,Rf7,a3,Nxd6+,Kb8,Nb5,a2,Rxc7,a1=Q,Bxb6,Qf1+,Ke5,Re2+,Kd6,Qxf5,Nd4,Qf8+,Kc6,Rd2,Ba7+,Ka8,Nb5,Qe8+,Kb6,Qg6+,Kc5,Bb7,Bb6,Qg1+,Nd4,Qa1,Kd6,Qxc3,Nb5,Qb4+,Kd7,Bxd5', 'Ra7+,Kb8,Bc7#', 'https://lichess.org/training/S7mvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s7O7r', 'Rapid', 'mitar843', 2123, 'hadiwp', 1888, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Ne5,Bb3,Nf6,Nc3,Bb4,O-O,O-O,Nd5,Bc5,Nxf6+,Qxf6,Be3,d6,f3,a6,Kh1,Kh7,Qd2,Qe7,Nf5,Bxf5,Bxc5,dxc5,exf5,c4,Rfe1,cxb3,f4,Nc4,Qc3,Qc5,axb3,Qxf5,Qxc4,c6,Re5,Qd7,Rae1,Rae8,h3,Rxe5,fxe5,Re8,Qe4+,Kg8,Qf4,Qe6,Qb4,Re7,Qb6,Qd5,c4,Qd2,Re3,Kh7,Qc5,Re6,Rf3,Kg8,Qa7,Qe2,Qxb7,Qe1+,Kh2,Qxe5+,Kh1,Qxb2', 'Qxf7+,Kh7,Qxe6,Qb1+,Kh2', 'https://lichess.org/training/s7O7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S7S9l', 'Blitz', 'Arthuro2020', 2083, 'KadenM', 2100, 'c4,g6,Nc3,Nf6,d4,Bg7,e4,c6,f3,d6,Be3,Nfd7,Bd3,e5,d5,c5,Nge2,a6,Qd2,O-O,Bh6', 'Qh4+,g3,Qxh6,Qxh6,Bxh6', 'https://lichess.org/training/S7S9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S7seY', 'Rapid', 'Dzakir007', 1704, 'PetromanSiko', 1669, 'd4,c6,h3,d5,a3,Bf5,Nf3,e6,e3,Nf6,c4,Be7,c5,O-O,Nc3,b6,b4,bxc5,bxc5,Qa5,Bd2,Qc7,Be2,Nbd7,Nh4,Bg6,O-O,e5,f4,exf4,Rxf4,Ne4,Nxg6,fxg6,Nxe4,Rxf4,Nd6,Bxd6,exf4,Bxc5,dxc5,Nxc5,Qf1,Ne4,Be3,Rf8,Bg4,g5,f5,g6,Bxg5,gxf5,Bf4', 'Qb6+,Kh2,fxg4', 'https://lichess.org/training/S7seY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S7Vw5', 'Rapid', 'teodoraboric', 1839, 'notarealbanana', 1743, 'e4,c5,Bc4,e6,Nc3,Ne7,d3,g6,Nge2,Bg7,O-O,O-O,f4,d5,exd5,exd5,Bb3,Nbc6,Ng3,Na5,Qf3,Nxb3,axb3,Re8,Bd2,d4,Nce4,Nf5,Nxf5,Bxf5,g4,Bd7,f5,Bc6,fxg6,fxg6,Qf7+,Kh8,Bg5,Rxe4,Bxd8,Rxg4+,Kf2,Rxd8,Ke2,Rg2+,Rf2,Re8+,Kf1', 'Rxf2+,Qxf2,Rf8', 'https://lichess.org/training/S7Vw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s7wmy', 'Rapid', 'Leon1d', 2304, 'reda74', 2369, 'd4,d5,c4,dxc4,e3,a6,a4,e6,Bxc4,c5,Nf3,cxd4,exd4,Nf6,O-O,Be7,Qe2,O-O,Nc3,Nc6,Rd1,Nb4,Ne5,Nfd5,Qe4,Bf6,Qg4,Qc7,Bf4,Nxf4,Qxf4,Bxe5,dxe5,Nc6,Re1,f6,Qg4,Nxe5,Bxe6+,Kh8,Qf5,Qb6,Bxc8,Raxc8,Nd5,Qxb2,Rab1,Qa3,Rxb7,Qxa4,Nxf6,Ng6,Qh3,h6', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/s7wmy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s7XeZ', 'Rapid', 'kwarc', 1974, 'Branhops', 1969, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nge7,c3,Nxd5,Qxd5,Bb7,Be2,Na5,Qd3,Be7,O-O,O-O,Be3,Rc8,Bg4,Rc6,Rad1,Nc4,Nxc4,bxc4,Qd2,Bc8,Bxc8,Qxc8,f4,Qb7,f5,f6,Kh1,Rb8,h4,Qxb2', 'Qd5+,Kf8,Qxc6', 'https://lichess.org/training/s7XeZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s7xZV', 'Blitz', 'Germaniusser', 1530, 'Luckygeorge', 1524, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d3,h6,f4,Bg4,Nf3,Bc5,Qe2+,Be6,Nc3,O-O,Na4,Bg4,Nxc5,Re8,Be3,d4,O-O,Rxe3,Qd2,Bxf3,Rxf3,Qe7,Nxb7,Nc6,Rff1,Re2,Qd1,Qe3+,Kh1,Ng4,Nc5,Nf2+,Rxf2,Qxf2,Qg1,Rae8,Ne4,Qxf4,Rf1,Qe3,Bxf7+,Kh8,Bxe8,Ne5,Qxe3,Rxe3,g3,Re2,Rc1,Ng4,Kg1,Nxh2,b4,Nf3+,Kf1,Re3,a4,Nh2+,Kf2,Ng4+,Kg2,Ne5,b5,Re2+,Kh3,g5,a5', 'g4+,Kh4,Rh2#', 'https://lichess.org/training/s7xZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S7y4v', 'Blitz', 'gloriavictis101', 2163, 'Inciapter', 2114, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nc6,Ne2,Bg4,f3,Bh5,Nbc3,Bb4,h4,Bg6,Bb5,Ne7,h5,Bf5,g4,Be6,Bg5,f6,Nf4,Bxg4,fxg4,fxg5,Ne6,Qd6,Nxg7+,Kd7,Qe2,a6,Bxc6+,Nxc6,O-O-O,Rhf8,Rhf1,Rf4,Kb1,Bxc3,bxc3,Na5,Rxf4,gxf4,Re1,Nc4,Nf5', 'Qb6+,Kc1,Qb2+,Kd1,Qb1#', 'https://lichess.org/training/S7y4v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S7YHT', 'Rapid', 'Erosann_in', 1984, 'Vihtolk', 1908, 'e4,Nc6,Nf3,d6,d4,Bg4,Be3,Qd7,h3,Bh5,Be2,Nf6,Nc3,e5,dxe5,dxe5,Qxd7+,Nxd7,g4,Bg6,Nh4,O-O-O,Nxg6,hxg6,O-O-O,f5,exf5,gxf5,gxf5,Bb4,Nb1,Nf6,f4,exf4,Bxf4,Nd4,Rh2,Rxh3,Rxd4,Rxh2', 'Rxd8+,Kxd8,Bxh2', 'https://lichess.org/training/S7YHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s7Zbp', 'Rapid', 'pol_allars', 1735, 'alwast', 1931, 'e4,e6,d4,c5,Be3,cxd4,Bxd4,Nc6,Bc3,Nf6,Bd3,d5,exd5,Nxd5,Bb5,Bd7,Ne2,Nxc3,Nbxc3,Bb4,a3,Bxc3+,Nxc3,O-O,O-O,a6,Ba4,b5,Bb3,Ne5,Qd2,Nc4,Bxc4,bxc4,Rad1,Bc6,Qxd8,Raxd8,Rxd8,Rxd8,Rd1,Rb8,Rd6,Be8,Nd1,a5,c3,h6,Kf1,Kf8,Ke1,Ke7,Ra6,a4,Ra5,Bc6,g3,g6,Rc5,Bb5,Ne3', 'Kd6,Rxb5,Rxb5', 'https://lichess.org/training/s7Zbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S81bK', 'Rapid', 'vk9101', 1996, 'Dschingis', 1944, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Ngf3,c5,c3,Nc6,Nb3,cxd4,cxd4,Be7,Bd3,O-O,h4,f6,Bd2,fxe5,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Nf6,Qe2,e4,O-O-O,e5,dxe5,Nxe5,Bc3,Qc7,Kb1,Bg4,f3,exf3,gxf3,Bf5+,Ka1,Nc6,Rhg1,Rae8,Qg2,Nh5,Ne6,Bxe6,Bxg7,Nf4,Qg3,Rf7', 'Be5+,Kh7,Bxc7', 'https://lichess.org/training/S81bK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s8eBK', 'Rapid', 'KeitaSzemok', 1680, 'javierun93', 1652, 'e4,e5,Nf3,Nc6,Bb5,Bd6,c3,Nce7,O-O,Ng6,d4,c6,Ba4,b5,Bb3,Qe7,Ng5,Nh6,Qf3,O-O,dxe5,Bxe5,Qe2,Nf4,Bxf4,Bxf4,Nf3,d6,Nbd2,Bg4,Qd3,c5,Bc2,c4,Qd4,Rad8,a4,Be5,Nxe5,dxe5,Qe3,Qf6,axb5,Bh5,Rxa7,Ng4,Qf3,Rxd2,Qxf6,Nxf6,Rc1,Rb8,b6,h6,b7,Kh7,f3,Nd7,Ba4,Nc5,Bc6,Rxb2,Ra8,R8xb7,Bxb7,Nxb7,Rb8,Kg6,g4,Bxg4,fxg4,Kg5,Rc8,Na5,Rc5,Nb3,Rxe5+,Kf4,Rf5+,Kxg4,Re1,Nd2,Rxf7,Nf3+,Rxf3,Kxf3,e5,Rg2+,Kh1,Rc2', 'e6,Kf2,e7,Kxe1,e8=Q+', 'https://lichess.org/training/s8eBK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s8en8', 'Rapid', 'LtGen', 1752, 'Olic1968', 1927, 'e3,e6,a3,d5,h3,a6,d4,Nc6,Bd2,g6,Nc3,Bg7,Nf3,Nge7,Be2,O-O,h4,e5,h5,Bg4,hxg6,fxg6,Ng5,Bxe2,Qxe2,Rf6,Nxh7,Rf5,Qg4,exd4,exd4,Qd6,O-O-O,Nxd4,Bh6,Kxh7', 'Bf4+,Kg8,Bxd6', 'https://lichess.org/training/s8en8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S8fCE', 'Rapid', 'ali_sakarneh99', 2013, 'KaramyschevPavel', 1892, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d4,Bd6,Bb5,Nxe4,Bxc6,dxc6,dxe5,Bc5,Qxd8+,Kxd8,Nbd2,Nxd2,Bxd2,Re8,Rad1,Ke7,h3,Kf8,a3,Bf5,b4,Bb6,c4,a6,c5,Ba7,Nd4,Bd3,Rfe1,Bb5,Nxb5,axb5,Kh2,b6,Be3,bxc5,bxc5,Bb8,Rd3,Ra4,f4,Ba7,Rd7,Rxa3,Rxc7,Bb8,Rxc6,f6,e6', 'Rxe3,Rxe3,Bxf4+,Kh1,Bxe3', 'https://lichess.org/training/S8fCE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S8FoY', 'Blitz', 'Ahmedaliahmed92', 1628, 'haibane46', 1620, 'e4,c5,c4,Nc6,d3,e6,Bf4,g5,Bg3,h5,h3,Nf6,Nf3,Bh6,Be2,d5,e5,Nd7,O-O,f5,exf6,Qxf6,Nc3,a6,Rb1,g4,Bh4,Qg6,hxg4,hxg4,Nh2,Bg5,Bg3,Qh5,Bxg4,Qh6,cxd5,Nce5,Bh3,exd5,Nxd5,Nf6,Nc7+,Kd8,Bxc8,Kxc8,Nxa8,Nfg4,Bxe5,Nxh2,Qe2', 'Nf3+,Qxf3,Qh1#', 'https://lichess.org/training/S8FoY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s8HMb', 'Blitz', 'Matias66m', 1859, 'tirreno10', 1827, 'd4,Nf6,Bf4,g6,Nc3,d6,e4,Bg7,Qd2,O-O,O-O-O,e5,dxe5,Nh5,Bh6,Bxe5,f3,Re8,g4,Ng7,h4,Nc6,h5,Nd4,hxg6,fxg6,Bxg7,Bxg7,Qh2,Qg5+,Kb1,h6,f4,Qxg4,f5,gxf5,Bh3,Qg5,exf5,Bxf5,Bxf5,Qxf5,Nh3,Re3,Qg2,Re2,Nxe2', 'Qxc2+,Ka1,Nb3+,axb3,Qxb2#', 'https://lichess.org/training/s8HMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s8Ivp', 'Rapid', 'Yuriyvltr', 1646, 'ahoover8', 1751, 'e4,c5,f4,e6,e5,d6,d4,Nc6,Bb5,Bd7,c3,d5,Nf3,a6,Ba4,b5,Bc2,c4,b3,Qb6,a4,b4,Bd2,cxb3,Bxb3,bxc3,Bxc3,Na5,Bc2,Nc4,Qd3,Bb4,O-O,Bxc3,Qxc3,Ne7,Na3,Rc8,Rab1,Qa7,Nxc4,Rxc4,Qd3,Bxa4,Bxa4+,Rxa4,Qb3,Qd7,Qb8+,Nc8,Rb7,Qd8,Rc1,O-O,Rbc7,Ne7', 'Qxd8,Rxd8,Rxe7', 'https://lichess.org/training/s8Ivp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S8kFB', 'Blitz', 'kingkiller1102', 1681, 'SIEMENS2002', 1646, 'e4,e6,Ne2,d5,Nbc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Ng3,h6,Be2,Bd6,O-O,b6,Bf3,c6,c3,Bb7,d4,Nd7,Ne4,Qe7,Nxd6+,Qxd6,g3,O-O-O,Bg2,h5,Bf4,Qe7,h4,f6,Qe2,g5,hxg5,fxg5,Be5,Nxe5,Qxe5,h4,g4,Rhf8,Bh3,Rf3,Qe4,Rdf8,Rae1,R3f6,Bg2,h3,Bxh3,c5,Qe5,Rxf2,Rxf2,Rxf2,Kxf2,Qf7+,Kg3', 'Qf3+,Kh2,Qf2+,Bg2,Qxg2#', 'https://lichess.org/training/S8kFB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s8mU3', 'Rapid', 'Capablanca1333', 1731, 'profegustavo', 1720, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,d4,Bd7,O-O,a6,Bxc6,bxc6,dxe5,dxe5,Nxe5,Bd6,Nxd7,Qxd7,f4,Bc5+,Kh1,Qxd1,Rxd1,O-O,h3,Rad8,Bd2,Rfe8,e5,Nd5,Ne4,Be3,c4,Bxd2,Rxd2,Nxf4,Rad1,Rxd2,Rxd2,h6,g3,Rxe5,Rd8+,Kh7,gxf4,Rxe4,Rd7,Rxf4,Rxc7,Rxc4,Rxf7,Kg6,Rb7,a5,Kg2,Rb4,Rxb4,axb4,Kf3,Kf6,h4,g5,hxg5+,Kxg5,a4,bxa3,bxa3,h5', 'a4,Kf5,a5', 'https://lichess.org/training/s8mU3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S8pGT', 'Rapid', 'Mandrawao', 2120, 'Blubberlutsch-FC-04', 2311, 'd4,e5,dxe5,Nc6,Nf3,Qe7,e6,dxe6,e4,e5,Bd3,Nf6,h3,Be6,O-O,O-O-O,Qe2,h6,Be3,g5,Nc3,g4,hxg4,Bxg4,b4,Nh5,b5,Nf4,Qd2,Bxf3,bxc6,Qg5,cxb7+,Kxb7,Rab1+,Ka8,g3,Qh4,gxh4,Rg8+,Kh2,Rg2+,Kh1,Rxf2+,Kg1', 'Nh3#', 'https://lichess.org/training/S8pGT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s8Psz', 'Rapid', 'DominikDerBoss', 2480, 'Maggie619', 2368, 'd4,d5,Bf4,Nf6,e3,c5,Nc3,Qb6,Nb5,Na6,c3,Bd7,a4,c4,b3,Bxb5,axb5,Qxb5,bxc4,dxc4,Nf3,Nd5,Qb1,Qxb1+,Rxb1,Nxf4,exf4,b6,Bxc4,Nc7,Kd2,e6,Rhe1,Bd6,f5,O-O,fxe6,fxe6,Bxe6+,Nxe6,Rxe6,Bf4+,Kd3,Rfe8,Rxe8+,Rxe8,Ra1,Re7,c4,a5,c5,bxc5,dxc5,Bc7,Ra2,Kf7,Kc4,Ke6,Re2+,Kd7,Rxe7+,Kxe7,Kb5,Kd7,h3,h6,Nd4,g6,Nb3,a4,Kxa4,Kc6,Kb4,Kd5,Kb5,h5,Nd2,g5,Nc4,Kd4,Nb6,Kd3,Kc6,Bh2,Nc8,Kc4,Nd6+,Kd4,Nf5+,Kd3,Kb7,Be5,Nd6,Kd4,Kc6,Bh2,Nf5+,Kd3,Kd5,Bb8,Ng7,h4,Ne6,Ke2,f3,Kf2,Nxg5,Kxg2,Ke4,Kg3,c6,Bc7,Ne6,Bd6,f4,Kxh3,Kf3,Kh2,f5,h3,c7,Bxc7,Nxc7,Kh1,f6,h2,f7,Kg1,f8=Q,h1=Q+,Ke3,Qh3+,Ke2,Qg4+,Ke1,Qe4+,Kd1,Qc4,Ke1,Qc1+,Ke2,Qc2+,Kf3', 'Qf2+,Ke4,Qxf8', 'https://lichess.org/training/s8Psz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S8s0R', 'Blitz', 'Mrjack1954', 1520, 'masternate', 1630, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nxc6,bxc6,Nc3,e5,Bc4,Nf6,Qf3,Be7,O-O,O-O,Be2,Bb7,Qg3,Kh8,f4,d5,fxe5,Nxe4,Nxe4,dxe4,Rf5,Bc8,Rh5,f6,Qh4,fxe5,Rxh7+,Kg8,Rh8+,Kf7,Qh5+,Ke6,Qg6+,Rf6,Qxg7,Qd4+,Kh1', 'Qd1+,Bxd1,Rf1#', 'https://lichess.org/training/S8s0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S8TiU', 'Rapid', 'Siavash-ir', 1788, 'jrsc', 2047, 'e4,e5,Nc3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,d6,Qd2,Be6,Bb3,Qd7,Na4,Bb6,Nxb6,axb6,Nf3,Bxb3,cxb3,Qe6,O-O,O-O,Rfe1,h6,Bh4,Ne7,d4,Ng6,Bg3,c6,dxe5,Nxe5,Nxe5,dxe5,f4,exf4,Bxf4,Nxe4,Qb4,f5,Qxb6,Qf7,a4,Ra6,Qe3,Rd8,b4,Qc4,Bxh6,gxh6,Qxh6,Qf7,Rxe4,fxe4,Qg5+,Qg7,Qxd8+,Kh7,Qh4+,Kg8,Qxe4,c5,bxc5,Qxb2,Rf1,Rf6,Qe8+,Kg7,Qe7+,Kg6,Qe8+,Kg7,Re1', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/S8TiU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S8uIr', 'Blitz', 'brainout88', 1534, 'osobol', 1549, 'd4,b6,e4,Bb7,d5,e5,Nf3,d6,Bb5+,Nd7,Nc3,Ne7,Bg5,f6,Bh4,Ng6,Qd2,Be7,g3,O-O,O-O-O,a6,Bc6,Bxc6,dxc6,Nb8,Qd5+,Kh8,g4,Qe8,Qe6,Nf4,Qc4,Qxc6,Qxc6,Nxc6,Nd5,Bd8,Bg3,Ne2+,Kb1,Ned4,Bh4,Nxf3,Bg3,b5,h4,b4,g5,fxg5,hxg5,Nxg5,Bh4,Nxe4,Bxd8,Raxd8,Rh4,Rxf2,Rxe4,a5,Nxc7,Rd7,Ne6,d5,Rg4,d4,c3,bxc3,bxc3,Rb7+,Ka1,Rbb2,cxd4,Rxa2+,Kb1,Rfb2+,Kc1,Nb4,dxe5,Rc2+,Kb1,Rab2+,Ka1,h6', 'Rd8+,Kh7,Rxg7#', 'https://lichess.org/training/S8uIr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S8uLH', 'Blitz', 'Ac1000', 2455, 'FM Burberry', 2539, 'b3,Nf6,Bb2,g6,Bxf6,exf6,c4,f5,Nc3,Bg7,e3,O-O,Nge2,d6,g3,Re8,Bg2,Nd7,O-O,Nf6,Rb1,a6,b4,c6,a4,Be6,d3,Qe7,b5,axb5,axb5,Qd7,bxc6,bxc6,Nd4,d5,cxd5,Nxd5,Nce2,Ra3,Qc2,Rc8,Rfc1,c5,Nxe6,Qxe6,d4,c4,Bxd5,Qxd5,Nf4,Qa5,Nd3', 'Rxd3,Qxd3,cxd3,Rxc8+,Bf8', 'https://lichess.org/training/S8uLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S8uUb', 'Rapid', 'Mosha07', 1755, 'ARAD-FLASH', 1886, 'e4,c6,f4,d5,e5,Bf5,h3,h6,Nf3,e6,d4,c5,Bb5+,Nc6,O-O,Qb6,Bxc6+,Qxc6,a4,Qb6,Nh4,Bh7,c3,Ne7,Nf3,Nc6,Na3,a6,c4,cxd4,cxd5,d3+,Kh1,exd5,Re1,Be4,Be3,Qxb2,Qb1,Qxb1,Nxb1,Bb4,Rd1,Bxf3,gxf3,O-O-O,Rxd3,a5,Bb6,Rd7,Nc3,Bxc3,Rxc3,Kb8,Rd1,Ne7,Bxa5,Ng6,Rd4,Ne7,Rcd3,Nc6,Rxd5,Rxd5,Rxd5,Nxa5,Rxa5,Rd8,Kg2,Kc7,Rb5,Rd4,a5,Rxf4,Kg3,Ra4,f4,Kc6,Rb1,Rxa5,Kg4,b5,h4,g6,Rd1,Ra7,Rd6+,Kc5,Rd8,Rb7,h5,b4,Rh8,b3,Rc8+,Kd4,Rc1,b2,Rb1,Kc3,hxg6,fxg6,f5,Kc2,Rxb2+,Kxb2,f6,Rf7,Kf4,h5', 'Kg5,h4,Kxh4', 'https://lichess.org/training/S8uUb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s8WC7', 'Rapid', 'arakarak', 2257, 'FM komis1987', 2357, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Bc5,Bb5,Bg4,Nbd2,f6,Ne4,Be7,Bxc6+,bxc6,h3,Bh5,Ng3,Bf7,d4,exd4,Nxd4,Qd7,Ngf5,Bg6,Qg4,O-O', 'Nh6+,gxh6,Qxd7', 'https://lichess.org/training/s8WC7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S8WNj', 'Blitz', 'alveno25', 1807, 'emanueles', 1794, 'e4,c5,f4,d6,Nf3,Nc6,c4,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Nc3,e6,Qc2,Ne7,Be3,O-O,Bd3,d5,exd5,cxd5,cxd5,Nxd5,Nxd5,Qxd5', 'Be4,Qa5+,Bd2,Qb6,Bxa8', 'https://lichess.org/training/S8WNj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s8xAN', 'Rapid', 'Yanto888', 1665, 'unresolving', 1700, 'e4,Nc6,d4,e6,Bb5,Nce7,Nc3,Nf6,e5,Nfd5,Nxd5,Nxd5,Nf3,Qe7,Bg5', 'Qb4+,Bd2,Qxb5', 'https://lichess.org/training/s8xAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s8y37', 'Rapid', 'thweenth', 1866, 'PGT1', 1822, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,O-O,e3,d6,Nf3,Nbd7,Be2,b6,Qc2,Bb7,O-O,Nh5,Bg5,h6,Bh4,c5,d5,g5,Nd2,Ndf6,Qd1,gxh4,Bxh5,e6,e4,exd5,exd5,Bc8,Rb1,Bf5,Rc1,a6,a4,Kh7,b3,Bd3,Re1,Nxh5,Qxh5,Bg6,Qf3,f5,Qd1,h3,gxh3,Qh4,Qf3,Bh5,Qg3,Qd4,Nf3,Bxf3,Qxf3,Rf6,Rcd1', 'Rg6+,Kf1,Qxc3', 'https://lichess.org/training/s8y37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s965Q', 'Rapid', 'Gepo1403', 2108, 'Andrii_Poliukh', 2089, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,Bf5,Bd3,Bxd3,Qxd3,dxe5,fxe5,c5,d5,e6,Nc3,Qh4+,g3,Qxc4,Qxc4,Nxc4,Nf3,exd5,Nxd5,Na6,b3,Nb6,Nxb6,axb6,O-O,O-O-O,Ng5,Rd5,Nxf7,Rg8,Bf4,Be7,Rad1,Rxd1,Rxd1,Nc7,Nd6+,Bxd6,Rxd6,b5,Kf2,Rd8,Kf3,Rxd6,exd6,Ne8,Ke4,Kd7,Kd5,b6,Be5,h5,h3,Nf6+,Bxf6,gxf6,a3,f5,Ke5', 'c4,bxc4,bxc4', 'https://lichess.org/training/s965Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S96E8', 'Rapid', 'pauix_92', 1879, 'shubham003', 1956, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Bb7,Ba4,Be7,d3,O-O,Nc3,c5,Nce4,Nxe4,Nxe4,f5,Qe2,fxe4,dxe4,Qd4,Bb3+,Nxb3,axb3,Bxe4,Ra4,c4,Rxc4,Qb6,Rxe4,Rad8,O-O,Bf6,Bd2,Rd4,Bc3,Rd5,Qc4,Rd8,Rd1,Qb7,Kf1,a6,Re2,Kh8,Rxd5,Rxd5,Rd2,Rxd2,Bxd2,e4,Bc3,Bxc3,Qxc3,Qd7,Ke2,h6,Qe5,Qg4+,Ke3,Qxg2,Qxe4,Qxh2,Qf4,Qh3+,Kd2,Qd7+,Kc1,Qb5,Qc4,Qg5+,Kb1,Qg1+,Ka2,Qxf2,Qc8+,Kh7,c3,Qb6,Qf5+,Kg8,b4,g6,Qd5+,Kg7,Qd7+,Kf6,Qh3', 'Qe6+,Qxe6+,Kxe6,Kb3,h5', 'https://lichess.org/training/S96E8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s9c2f', 'Rapid', 'FlyAngler', 2034, 'moosa5', 2028, 'd4,Nf6,Nf3,d5,g3,Bf5,Bg2,e6,Bf4,Nc6,O-O,Be7,Ne5,O-O,Nxc6,bxc6,c4,c5,dxc5,Bxc5,Nd2,Bd4,Qa4,Bxb2,Rad1,Rb8,cxd5,Nxd5,Nb3,Qe8,Qxe8,Rfxe8,Bxd5,exd5,Rxd5,Be6,Ra5,Bxb3,axb3,Rxb3,Rxa7,c5,Rc7,Ba3,Bd6,g6,Bxc5,Rc3,Bb6,Rxc7,Bxc7,Rxe2,Rd1,Bc5,Rf1,g5,h3,h5,Bd8,g4,h4,Kg7,Kg2,Kg6,Bg5,Kf5,Bf4,Ke4,Bc7,f5,Bf4,Kd3,Rd1+,Kc2', 'Rc1+,Kd3,Rxc5', 'https://lichess.org/training/s9c2f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s9ca3', 'Rapid', 'vlada69', 1780, 'nobobody', 1726, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Nxe4,Nbd2,Nxd2,Bxd2,Bc5,Qe2,O-O,a3,Nxe5,Nxe5,Re8,f4,d6,O-O-O,Qf6,Ng4,Bxg4,Qxg4,Bxa3,Bc3', 'Qxc3,bxa3,Qxa3+', 'https://lichess.org/training/s9ca3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s9D4Y', 'Rapid', 'ChessFaust', 1768, 'adamsky', 1750, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,Bg5,Be7,f4,exf4,Bxf4,Bb7,e5,Nd5,Nxd5,cxd5,Bxd5,Bxd5,Qxd5,Qb6+,Kh1,Qxb2,Qxd7,Bc5,e6,fxe6,Qxe6+,Kh8,Qe5,Bd4,Qe4,Rae8,Qd3', 'Rxf4,Rxf4,Qxa1+', 'https://lichess.org/training/s9D4Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s9FLK', 'Rapid', 'Volanski', 1615, 'eightvolt', 1620, 'e4,c5,c3,Nc6,Nf3,d5,exd5,Qxd5,c4,Qe6+,Be2,Nd4,Nc3,Nxe2,Nxe2,Qxc4,d3,Qb4+,Nd2,e5,O-O,Be7,a3,Qb6,Re1,f5,d4,cxd4,Nc4,Qf6,Qa4+,Bd7,Qb3,b6,Ng3,g6,Nxe5,Be6,Qb5+,Kf8,Nd7+,Bxd7,Qxd7,f4,Ne4,Qg7,Nd6,Rd8', 'Qxd8+,Bxd8,Re8#', 'https://lichess.org/training/s9FLK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s9hyO', 'Blitz', 'HarryUno', 2157, 'FM Cafeschopenhauer', 2394, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,Bg4,Bd3,Nc6,Be3,e5,d5,Ne7,h3,Bd7,Qd2,Ne8,Bh6,f5,Bxg7,Nxg7,Ng5,f4,Ne6,Nxe6,dxe6,Bxe6,Qe2,Qe8,Bc4,Qf7,Bxe6,Qxe6,f3,Kg7,Rad1,Rfd8,Qb5,b6,a3,a6,Qd3,Nc6,Nd5,Ne7', 'Nxc7,Qc8,Nxa8', 'https://lichess.org/training/s9hyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s9I4T', 'Rapid', 'youareatilter', 2163, 'delsonimuka', 1962, 'e4,e5,Nf3,d6,Bc4,Be7,d3,Nf6,O-O,O-O,c3,Bg4,Bb3,c6,h3,Bxf3,Qxf3,Nbd7,Bc2,Rc8,Nd2,d5,d4,exd4,cxd4,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qh4,c5,Bg5,Re8', 'Bxf6,Bxf6,Qxh7+', 'https://lichess.org/training/s9I4T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s9J5P', 'Rapid', 'VSI_22', 1828, 'adegun', 1913, 'e4,c6,c4,d5,exd5,cxd5,cxd5,Nf6,Nc3,Nxd5,Bc4,Nb6,Bb3,e6,Nf3,Nc6,d4,Be7,O-O,O-O,Re1,Bf6,Be3,Ne7,Ne4,Ned5,Nxf6+,Nxf6,Bg5,h6,Bxf6,Qxf6,Qd3,Rd8,Bc2,g6,Ne5,Nd5,a3,b6,Ng4,Qg5,Qf3,h5,Ne5,Qf4,Qd3,Qf6,Re4,Bb7,Rh4,Qxh4,Nxg6,Qg5,Ne5,Nb4', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/s9J5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S9jYZ', 'Rapid', 'otto4', 1716, 'ferrucciolari', 1793, 'd4,e6,e3,d5,f4,f5,Nf3,c5,c3,Nc6,Be2,Nf6,O-O,Be7,Nbd2,O-O,Nb3,Ne4,Bd3,Nxc3,bxc3,c4,Nc5,cxd3,Qxd3,a5,Nb3,b6,a4,Ba6,Qc2,Bxf1,Kxf1,g5,fxg5,Bxg5,Ne5,Nxe5,dxe5,Rc8,Nd4,Kf7,Ba3,Rg8,Nxf5,exf5,Qxf5+,Kg7,e6,Be7', 'Qf7+,Kh6,Bxe7', 'https://lichess.org/training/S9jYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S9kuF', 'Blitz', 'abaslagueuse', 1696, 'habalreeh', 1664, 'e3,b6,d4,Bb7,f3,e6,Ne2,Nc6,Nbc3,Bb4,Bd2,Nge7,a3,Bxc3,Nxc3,O-O,Be2,Ng6,O-O,f5,f4,Nh4,Qe1,Na5,Na4,Nxg2,Qf2,Qf6,Bf3,Bxf3,Qxf3,Nh4,Qg3,Nc4,Bc3,d5,b3,Nd6,Be1,Ne4,Qxh4,Qg6+,Kh1,c5,Rg1,Qf7,Bg3,cxd4,exd4,Rac8,Rac1,b5,Nb2,Rc3,Nd3,Rfc8,Ne5,Qc7,Be1,Rxc2,Rxc2,Qxc2,Qe7,Nf2+,Bxf2,Qe4+,Rg2', 'Rc1+,Bg1,Rxg1+,Kxg1,Qe1#', 'https://lichess.org/training/S9kuF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S9mz2', 'Rapid', 'EstebanS7', 1949, 'leena_yousef', 1831, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nf3,Be6,Bxe6,fxe6,Nxc3,Nf6,e5,dxe5,Qxd8+,Kxd8,Nxe5,Ke7,O-O,Nc6,Nxc6+,bxc6,Bg5,h6,Bh4,g5,Bg3,Rc8,Rac1,Bg7,Na4,Ne4,Rxc6,Nxg3,hxg3,Bd4,Rd1,Bb6,Re1,Bd4,Rexe6+,Kf7,Rxh6,Rxh6,Rxh6,Rb8,b3,c5,Rh7+,Kg6,Rc7,Rf8,Nxc5,Rxf2,Kh1,Rxa2,Na4,Ra1+,Kh2,Rf1,g4', 'Be5+,g3,Bxc7', 'https://lichess.org/training/S9mz2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S9SBh', 'Rapid', 'Panzer13', 1903, 'IliIla11', 2070, 'e4,e5,f4,exf4,Nf3,g5,d4,d6,h4,f6,Bc4,Bg4,Nc3,c6,Bf7+,Kxf7,Nxg5+,fxg5,Qxg4,Nh6,Qh5+,Ke6,hxg5,Nf7,Bxf4,Kd7,Qxf7+,Qe7,Qxe7+,Bxe7,O-O-O,Na6,e5,d5,a3,Nc7,Rh5,Ne6,g3,Rag8,Rdh1,Nxg5,Kb1,Rg7,Na4,b6,Nc3,Ne6,Nd1,Nxd4,Ne3,Rf7,c3,Ne6,Rf5,Rhf8,Rxf7,Rxf7,Rf1,Bc5,Ng4,Ng5', 'Nf6+,Rxf6,exf6', 'https://lichess.org/training/S9SBh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s9vXV', 'Blitz', 'Tahzib', 2205, 'Simonics', 2120, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Qxd4,Nc6,Qd3,e6,Bf4,e5,Bg5,Be7,Bxf6,Bxf6,O-O-O,Be7,Nd5,Be6,Qd2,Bxd5,exd5,Nb8,h4,Nd7,g4,Qb6,Bh3,Nc5,Qe3,Rc8,g5,Rc7,Nxe5,dxe5,Qxe5,O-O,d6,Bxd6,Qxd6,Qa5,Rhe1,Rc6,Qe7,g6,Bg2,Rb6,Bd5,Qb4,Bxf7+,Rxf7,Rd8+,Kg7,Qe5+,Rff6,h5,Qf4+,Qxf4,Rxf4', 'Re7+,Rf7,h6#', 'https://lichess.org/training/s9vXV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s9W9D', 'Classical', 'hans-heinrich', 1626, 'just_manoka', 1605, 'e4,e5,Nc3,c6,Bc4,Nf6,d3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nbxd7,Nf3,d4,Ne4,Nb6,Bg5,Nbd5,O-O,h6,Bh4,Be7,Nxe5,g5,Bg3,Nxe4,dxe4,Nf6,f3,O-O,Bf2,Bc5,c3,Bd6,Qxd4,Qc7,Rad1,Rfd8,Qc4', 'Bxe5,Qxc7,Bxc7', 'https://lichess.org/training/s9W9D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('s9xHQ', 'Rapid', 'tncydmn', 1764, 'H392919', 1705, 'e4,f5,e5,d6,f4,e6,d4,Be7,Bc4,Nh6,Nc3,d5,Bb3,Nc6,a3,O-O,Be3,b6,Qd3,Bb7,O-O-O,Qd7,h4,a5,Nf3,Ng4,Ng5,h6,Bd2,Nf2,Qg3,Nxh1,Rxh1,Nxd4,Ba4,Bc6,Bxc6,Qxc6,Be3,Nb5,Nxb5,Qxb5', 'Nxe6,Rf7,Nxc7', 'https://lichess.org/training/s9xHQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('S9Xn7', 'Rapid', 'Istobas', 1681, 'davcat08', 1676, 'e4,c5,Nf3,e6,d4,cxd4,Bc4,a6,Nxd4,Nf6,Nc3,Bb4,Bd2,b5,Bd3,Bb7,f3,O-O,O-O,Bc5,Be3,e5,Nf5,Bxe3+,Nxe3,Nh5,Ned5,d6,a4,b4,Na2,a5,c3,Nc6,cxb4,axb4,Naxb4', 'Nxb4,Nxb4,Qb6+,Rf2,Qxb4', 'https://lichess.org/training/S9Xn7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sa1RS', 'Blitz', 'dylanrhett', 1704, 'Henry_Po', 1714, 'd4,e5,dxe5,f6,exf6,Nxf6,Nc3,Nc6,Nf3,d5,Bf4,d4,Nb5,Bb4+,Bd2,Bxd2+,Qxd2,O-O,e3,dxe3,fxe3,Qxd2+,Nxd2,Nb4,O-O-O,Nxa2+,Kb1,Nb4,Bc4+,Kh8,h3,c6,Nd4,b5,Ba2,c5,Nxb5,Rb8,Nd6,Nxa2,Kxa2,Rb6,N6c4,Rb4,b3,Be6,Nd6,Rfb8,Nf3,R8b6,g4,a5,Rb1,Nd5,Ne4,a4,Nxc5,axb3+,cxb3,Nc3+,Ka3,Nxb1+,Rxb1,R6b5,Nxe6,Re4,Rc1,h5,Neg5,Re8,Ka4,Rb7,e4,g6,Rc6', 'Ra8+,Ra6,Rxa6#', 'https://lichess.org/training/Sa1RS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sA3Kr', 'Rapid', 'Kimarov', 2092, 'ins3ct0', 2128, 'e4,c5,Bc4,e6,c3,Nf6,d3,Be7,Nf3,O-O,O-O,d5,exd5,exd5,Bb3,Nc6,Nbd2,Be6,Bc2,Rc8,Nb3,h6,Be3,b6,Rc1,Re8,d4,c4,Nbd2,Qd7,Bb1,Bf5,Bf4,a5,Ne5,Nxe5,Bxe5,b5,Re1,b4,Nf3,Bxb1,Rxb1,Ne4,Nd2,Nxd2,Qxd2,Bd6,f4,f6,Bxd6,Qxd6,Qf2,Re4,Rxe4,dxe4,Re1,Re8,g3,f5,Qe2,Qg6,Qxc4+,Kh7,cxb4,axb4,Qxb4,Qg4,Qc3,g5,Qc7+,Kg6,Qd6+,Kh5,Qd7,Rg8,Rc1,gxf4,Qf7+,Rg6,Rf1,f3,Kf2,e3+,Kxe3,Qe4+,Kf2', 'Qe2+,Kg1,Qg2#', 'https://lichess.org/training/sA3Kr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sa4p9', 'Rapid', 'Bell100', 1645, 'robtka', 1623, 'e4,e5,Nf3,Nf6,Nxe5,d6,Ng4,Nxg4,h3,Ne5,d4,Nec6,Bb5,Bd7,d5,Ne5,Bxd7+,Nbxd7,Nc3,Be7,Bf4,O-O,Qe2,c6,O-O-O,cxd5,Nxd5,Rc8,g4,Bg5,h4,Bxf4+,Nxf4,Nf6,g5,Nfd7,Rd5,Nc5,Kb1,a5,Rhd1,Rc6', 'Rxe5,dxe5,Rxd8', 'https://lichess.org/training/Sa4p9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SA5Cu', 'Blitz', 'oninlenar', 2426, 'FM rdarruda', 2470, 'd4,Nf6,Nc3,d5,Bg5,Bf5,Nf3,Nbd7,Nh4,Be6,g3,h6,Bc1,g5,Nf3,Bg7,h4,g4,Ne5,Nxe5,dxe5,Nd7,Nxd5,Nxe5,Nf4,Qxd1+,Kxd1,O-O-O+,Ke1,Bf5,Nd3,Nc4,Rb1,e5,b3,Nd6,Bb2,Nb5,Bg2,Nd4,Bxd4,exd4,Kd2,h5,Nf4,Rhe8,b4,Bh6,Rb3,Be4,Rg1,Bxg2,Rxg2,Bxf4+,gxf4,Re4,f3,Rxf4,fxg4,hxg4,Rbg3,f5,h5,Rh8,Rh2,Kd7,Rd3,Ke6,e3,dxe3+,Rxe3+,Kf6,Rc3,c6,Rd3,Rh7,Rd6+,Ke5,Rg6,Rxb4,h6,Rd4+,Kc3,Rd6', 'Re2+,Kf4,Rxd6', 'https://lichess.org/training/SA5Cu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sA62d', 'Rapid', 'TKPIW', 1769, 'Thehocks', 1690, 'd4,d5,Bg5,Nc6,e3,Bf5,Bb5,Nf6,Qf3,Bxc2,Nc3,Bg6,Bxf6,exf6,Nxd5,Bd6,Nh3,a6,Ba4,b5,Bb3,Nb4,O-O,Nxd5,Bxd5,Rc8,Bc6+,Ke7,Bb7,Rb8,Bxa6,Qd7,Bb7,Rhd8,Bc6,Qe6,Bd5,Qf5,Nf4,Kf8,e4', 'Qxf4,Qxf4,Bxf4', 'https://lichess.org/training/sA62d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sa7rV', 'Blitz', 'windyhm', 1937, 'BobJansen', 1972, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Be3,Nf6,Bd3,e5,Nxc6,bxc6,c3,Be6,Nd2,d5,exd5,cxd5,Bg5,Be7,Bb5+,Bd7,Qa4,Bxb5,Qxb5+,Qd7,Qe2,Qe6,O-O,O-O,Rfe1,Bd6,Nf3,Nd7,h3,e4,Nd4,Qe5,f4,exf3,Qxe5,Nxe5,Nxf3,Nxf3+,gxf3,Rfe8,Red1,Bc5+,Kf1,h6,Bf4,g5,Bg3,Rad8,Rd3,d4,cxd4,Rxd4,Rxd4,Bxd4,Rb1,Re3,b4,Rxf3+,Kg2,Ra3,b5,Rxa2+,Kf3,Rb2,Rxb2,Bxb2,Bf2,Be5,Bxa7,h5,Bc5,Bb8,b6,Kg7,Ke4,Kg6,Be7,f5+,Kd5,g4,hxg4,hxg4', 'Bd6,Bxd6,Kxd6,g3,b7,g2,b8=Q', 'https://lichess.org/training/Sa7rV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SA95S', 'Blitz', 'FM Chessfis', 2518, 'GM Grandelicious', 2582, 'e4,c6,Nf3,d5,d3,g6,Nbd2,Bg7,g3,e5,Bg2,Ne7,O-O,O-O,Re1,d4,Nc4,f6,a4,Be6,Nfd2,c5,f4,Nbc6,b3,Qd7,Nf3,Bg4,Qe2,Rae8,Qf1,Kh8,h3,Be6,g4,exf4,Bxf4,g5,Bg3,b6,Qf2,Ng6,Rf1,Nce5,Qd2,h6,Rf2,Kh7,Raf1,Nxc4,bxc4,Qxa4,h4,Bxg4,hxg5,fxg5,e5,Qd7,Nh2,Rxf2,Rxf2,Bf5,Nf3,Kh8,Nxg5,hxg5,Qxg5,Ne7,e6,Qxe6', 'Qh5+,Kg8,Qxe8+', 'https://lichess.org/training/SA95S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sa99p', 'Blitz', 'onaranjog', 2086, 'ValentinHr79', 1839, 'd4,d5,Nf3,e6,e3,Nf6,Bd3,b6,Nbd2,Bb7,c4,Nbd7,cxd5,exd5,O-O,Ne4,Qc2,Ndf6,Ne5,Bd6,Bb5+,Kf8,Nxe4,dxe4,Bc6,Bxc6,Nxc6,Qd7,b3,h5,h3,g5,Bb2,h4,d5,Rh6,Bxf6,Rxf6,Qxe4,Re8,Qh7,Rg6,Kh1,Qf5,Rad1,a5,Rg1,Re5,Qh8+,Rg8,Qh6+,Ke8,Nxe5,Qxe5,f4,gxf4,exf4,Qc3,Qxh4,Rg3,Rge1+,Kd7,f5,Qc2,Rd2,Qxd2,Qa4+,Kc8', 'Re8+,Kb7,Qc6+,Ka6,Ra8#', 'https://lichess.org/training/sa99p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sa9fH', 'Rapid', 'Geburtstagsparadoxon', 1635, 'karen1122546', 1604, 'd4,d5,c4,Nc6,e3,e5,Nf3,exd4,Nxd4,Nxd4,exd4,dxc4,Bxc4,Bb4+,Nc3,Bxc3+,bxc3,Qe7+,Be3,Be6,Bxe6,Qxe6,O-O,Nf6,Re1,O-O,Bg5,Qf5,Bxf6,Qxf6,Re3,Rfe8,Qf3,Qxf3,Rxf3,Re6,Re3,b6,Rae1,Rae8,g4,g5,d5,Rxe3,Rxe3,Rxe3,fxe3,b5,Kf2,a5,Kf3,b4,cxb4,axb4,Ke4,Kg7,Kf5,f6,e4,Kf7,e5,fxe5,Kxe5,Ke7,h3,Kd7,Kf5,c6', 'dxc6+,Kxc6,Kxg5,Kb5,Kh6', 'https://lichess.org/training/sa9fH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SA9Hp', 'Classical', 'aaj05', 1763, 'iantron', 1755, 'e4,c5,Nf3,Nc6,b3,a6,Bb2,d6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Bd3,e5,Qe3,g6,Nc3,Bg7,f4,exf4,Qxf4,O-O,O-O-O,Ng4,h3', 'Bh6,Qxh6,Nxh6', 'https://lichess.org/training/SA9Hp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saahP', 'Rapid', 'BeastWrong', 1905, 'Muleskinner', 1974, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Ne7,c4,c6,cxd5,Nxd5,O-O,O-O,Bg5,Qb6,Nc3,Bg4,Nxd5,cxd5,Qc2,Bxf3,Bxh7+,Kh8,gxf3,g6,Bxg6,fxg6,Qxg6', 'Bxh2+,Kxh2,Qxg6', 'https://lichess.org/training/saahP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SaBcl', 'Rapid', 'Benga40', 2297, 'czechchess', 2131, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e6,Nc3,a6,Be3,Nf6,Be2,Qc7,g4,Nc6,Rg1,b6,g5,Nd7,Qd2,Bb7,O-O-O,O-O-O,f4,Be7,h4,Nc5,Bf3,Rhe8,h5,g6,hxg6,hxg6,Rh1,Rh8,Kb1,Na5,b3,Kb8,f5,e5,f6,Rxh1,Rxh1,exd4,fxe7,Qxe7,Bxd4,Nc6,Bf6,Qe6,Bxd8,Nxd8,Rh8,Kc7,Nd5+,Bxd5,Qxd5,Qe7,Qa8,Qxg5,a4,Ncb7,e5,Qg1+,Ka2,Qc5,exd6+,Kd7,Be4,b5,Qxa6,bxa4,Qxa4+,Ke6,Bxb7,Qxc2+,Ka3,Qc1+,Kb4,Qd2+,Kb5,Nxb7,Qc4+,Kf6,Rh3', 'Nxd6+,Kc5,Nxc4', 'https://lichess.org/training/SaBcl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sABNN', 'Rapid', 'drunfug', 2479, 'FrankKasl32', 1994, 'Nf3,d5,g3,Nf6,Bg2,c6,c4,e6,Qc2,Be7,d4,O-O,O-O,dxc4,Qxc4,b5,Qc2,Bb7,Rd1,Na6,Nc3,Qb6,a4,Nb4,Qb3,a5,Ne5,Rfd8,Be3,Nfd5,Nxd5,Nxd5,Rac1,Rac8,Bd2,Bb4,Bxb4,Nxb4,Rc5,Na6,Rcc1,Rxd4,Rxd4,Qxd4,axb5,Qxe5,bxa6,Bxa6,e3,Rb8,Qd1,Qxb2,Rxc6,Bb7,Rc2,Qb3', 'Rc8+,Rxc8,Qxb3,Rc1+,Bf1', 'https://lichess.org/training/sABNN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saCaI', 'Rapid', 'Basudario', 1918, 'max-spin-speed', 1904, 'd4,Nf6,f4,e6,e3,b5,Nf3,a6,c3,Bb7,Bd3,Be7,Nbd2,Ng4,Qe2,Nxe3,Qxe3,O-O,O-O,f5,Ng5,Bxg5,fxg5,Qe8,Nf3,f4,Qe2,Qh5,h4,Bxf3,Qxf3,Qxh4,Qxa8,Nc6,Qxa6,Qxg5,Qxb5,Qh4,b3,Qg3,Bxh7+,Kxh7,Qe2,Kg8,Rf3,Qg4,Ba3,Rf6,Re1,Nd8,Be7,Nf7,Bxf6,gxf6,Rh3,Qg7,Qe4,Ng5,Qa8+,Kf7,Rd3,f3,Qd8', 'Nh3+,Kf1,Qxg2#', 'https://lichess.org/training/saCaI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saCKI', 'Rapid', 'shikantaza', 1832, 'sergey_1967', 1979, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,h3,h6,a3,Nge7,c3,O-O,O-O,Be6,Nbd2,Bxc4,Nxc4,f5,Be3,fxe4,dxe4,Bxe3,Nxe3,Qd7,b4,a6,a4,Qe6,Nd5,Rac8,Nxe7+,Nxe7,b5,Ng6,Qd5,Qxd5,exd5,Nf4,Rfe1,Nxd5,c4,Nf4,bxa6,bxa6,Rab1,Nxh3+,Kf1,Nf4,Red1,Ne6,Nh4,Rf6,Rb7,Nd4,Ra7,g5,Nf3,Nxf3,gxf3,Rxf3,Rxa6,Rc3,Rc6,Ra3,Rdxd6,Rxa4,Rxh6,Kf7,Rh7+,Ke8,Re6+,Kf8,Rxe5,Rxc4', 'Rh8+,Kf7,Rxc8', 'https://lichess.org/training/saCKI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sAdfy', 'Rapid', 'ban-ban', 1756, 'R7662', 1741, 'b4,c6,Bb2,Nf6,g3,e6,a3,d5,Bg2,c5,bxc5,Bxc5,Nf3,Qb6,Bxf6,gxf6,O-O,Nd7,d4,Qb2,Nbd2,Bxa3,Nb3,Bb4,Rb1,Qc3,e3,O-O,Qe1,Qxe1,Nxe1,a6,Nd3,Bc3,Nbc5,Ra7,Nxd7,Bxd7,Nc5,Bb5,Nd3,Rc8,e4,dxe4,Bxe4,f5,Bg2,Bxd4,Rfd1,Rxc2,h4,Rc3,Nf4,Rc4,Bf1,Rc5,Rxd4,Bxf1,Kxf1,e5,Rd8+,Kg7,Ng2,b6,Ne3,Rac7,Nxf5+,Kf6,Nd6,Ke7,Ne4,Rc1+,Rxc1', 'Rxc1+,Ke2,Kxd8', 'https://lichess.org/training/sAdfy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sadgi', 'Rapid', 'Berser99', 1665, 'bassamnaji', 1690, 'd4,Nf6,Nc3,e6,e4,d5,e5,Nfd7,Qg4,c5,Nf3,Nc6,Bd3,cxd4,Ne2,Ncxe5,Nxe5,Nxe5,Qxd4,Bd6,O-O,O-O,Ng3,b6,Kh1,f5,f4,Ng4,h3,Bc5,Qc3,Qh4,Be2,Nf2+,Kh2,g5,b4,gxf4,Nh5,Qg5,bxc5,Ne4,Qe5,bxc5,Bxf4,Qg6,Rf3,Qxh5,Rg3+,Nxg3,Bxh5,Nxh5,Bh6,Rf6,Rf1,Rxh6,g4,fxg4,Qg5+,Rg6', 'Qd8+,Kg7,Qf8#', 'https://lichess.org/training/Sadgi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAdIr', 'Rapid', 'tlomz', 2004, 'TheBigTiger', 1909, 'd4,d5,c4,Nf6,Nc3,c6,Nf3,Bf5,cxd5,cxd5,e3,Ne4,Bd3,e6,Qc2,Nc6,Nxe4,Nb4,Bb5+,Nc6,Bxc6+,bxc6,Qxc6+,Ke7,Nc5,Qc8,Ne5,f6,Qxc8,Rxc8,Ned3,Kf7,O-O,Bd6,Bd2,e5,Rfc1,exd4,exd4,Rhe8,Bf4,Bxc5,Nxc5,Re2,b4,g5,Be3,h5,a4,h4,Kf1,Rb2,b5,h3,g3,Be4,Ke1,Bf3,Bd2,Re8+,Be3,Rxe3+,fxe3,Re2+,Kf1,Rxh2,Nd3', 'Be2+,Kg1,Rg2+,Kh1,Bxd3', 'https://lichess.org/training/SAdIr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sAdUB', 'Rapid', 'SmaragdElefant', 1725, 'lydoman8', 1709, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,d4,Bg4,Nc3,e6,h3,Bh5,g4,Bg6,Ne5,Qc7,Bf4,Bd6,Nxg6,hxg6,Bxd6,Qxd6,g5,Ne7,Qg4,a6,Bxc6+,Nxc6,h4,Nb4,O-O-O,Qb6,Qf4,Rc8,Qe5,Kf8,Rh3,Kg8,Rf3,Rxh4,Kd2,Rxd4+,Ke1,Rxc3,Qb8+,Kh7,Rxc3,Rxd1+,Kxd1,Qd4+,Kc1', 'Nxa2+,Kb1,Nxc3+', 'https://lichess.org/training/sAdUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sAEbV', 'Rapid', 'bmcdekker', 1634, 'FATREDRAT', 1647, 'c4,g6,b3,Bg7,Nc3,c6,Bb2,d5,e3,e5,Nge2,d4,exd4,exd4,Na4,Ne7,g3,Bg4,d3,Bf3,Rg1,O-O,Qc2,Re8,O-O-O,Na6,Ba1,b5,Nb2,Nb4,Qb1,Nf5,a3,Rxe2,Bxe2,Bxe2,Rd2,Bh6,f4,Nd5,cxd5,cxd5,Rxe2,Qa5,Qa2,Ne3,b4,Rc8+,Kb1,Qc7,Qb3,a5,Ka2,a4,Nxa4,bxa4,Qb2,Bg7,Rxe3,f5,Re2,Qb6,Rge1,Rc3,Re8+,Bf8,Qe2,Rxa3+,Kxa3', 'Qxb4+,Ka2,Qb3#', 'https://lichess.org/training/sAEbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sAED3', 'Classical', 'LAGARTO', 1863, 'uzair_pidie', 1918, 'c4,b6,Nc3,Bb7,Nf3,g6,d4,Bg7,e4,e6,Be3,Qe7,Qd2,Nf6,Bg5,h6,Bh4,g5,Bg3,Nxe4,Nxe4,Bxe4,Be2,d6,c5,f5,cxd6,cxd6,Bb5+,Kf7,h3,f4,Bh2,Nd7,Bxd7,Qxd7,O-O,Bxf3,gxf3,e5,dxe5,Bxe5,Rfe1,Rhe8,Qd5+,Kf6', 'Rxe5,Rxe5,Qxa8,Re8,Qd5', 'https://lichess.org/training/sAED3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sAEfi', 'Blitz', 'Ranchenko', 2252, 'FM rikchess', 2294, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,b5,O-O,Nf6,a4,b4,Qe2,h5,Bg5,Qb6,Nb3,Ng4,N1d2,Bb7,Nc4,Qc7,g3,Nc6,a5,Nce5,Nb6,Rb8,h3,Nxd3,cxd3,Ne5,Rac1,Qd6,d4,f6,dxe5,fxe5,Be3,Bxe4,Bc5,Qd3,Qxd3,Bxd3,Rfd1,Bb5,Bxf8,Rxf8,Rc7,Rf3,Nc5,h4,Kg2,Rf7,Ncxd7,Rd8,Nf6+,gxf6', 'Rxd8+,Kxd8,Rxf7', 'https://lichess.org/training/sAEfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sAEG4', 'Rapid', 'leyvakov123', 1759, 'SiliconCarne2', 2034, 'Nf3,d5,d4,Nf6,e3,Bf5,c4,c6,c5,b6,b4,a5,Ba3,e6,Bd3,axb4,Bxb4,bxc5,dxc5,Bxc5,Bxc5,Qa5+,Qd2,Qxc5,Bxf5,exf5,O-O,Ne4,Qb2,O-O,Nbd2,Nd7,Rfc1,Qd6,Qc2,c5,Rab1,Ndf6,Nh4,g6,g3,Ra3,Rb3,Rxb3,axb3,Rb8,Nxe4,Nxe4,f3,Nxg3,hxg3,Qxg3+,Ng2,Qxf3,Qxc5,Rxb3,Qd4,Rb8,Qa7,Rb2', 'Rc8+,Kg7,Qd4+,Kh6,Qxb2', 'https://lichess.org/training/sAEG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saeR6', 'Classical', 'blogwithric', 1827, 'Tangelo777', 1765, 'e4,e5,a3,Bc5,h3,Nf6,Nc3,c6,Bc4,Qb6,Qe2,O-O,Nf3,d6,Na4,Qa5,Nxc5,Qxc5,d3,Nbd7,Nh2,Nb6,Bb3,Be6,Ba2,Na4,Ng4,Nd7,Nh6+,Kh8,Nxf7+', 'Bxf7,Bxf7,Rxf7', 'https://lichess.org/training/saeR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAfap', 'Blitz', 'Asianking7', 2004, 'aleksa101b', 2013, 'c4,g6,Nc3,Bg7,g3,Nf6,Bg2,O-O,d3,d6,e4,Nc6,Nge2,Bg4,f3,Bd7,O-O,a6,a3,Rb8,b4,b5,cxb5,axb5,Bb2,Ne5,d4,Nc4,Qc1,c6,Nd1,Nxb2,Nxb2,Nh5,Nd3,Qb6,Qe3,Rfc8,g4,Nf6,Rac1,Ra8,Rc3,Bxg4,fxg4,Nxg4,Qf3,Bxd4+,Nxd4,Qxd4+,Kh1,Qxc3,Qxf7+,Kh8,Nf4,Ne5,Qxe7,Re8,Qf6+,Kg8,Ne6,Ra7', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/SAfap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SafCa', 'Classical', 'lmaojames', 1643, 'WyattGould', 1693, 'e4,c5,Nf3,Nc6,Nc3,Nf6,Bb5,g6,O-O,d6,d4,cxd4,Nxd4,Bd7,Nd5,Bg7,c3,Nxe4,Qf3,Nxd4,Bxd7+,Qxd7,Qxe4,Ne6,Re1,O-O,f4,f5', 'Qxe6+,Qxe6,Rxe6', 'https://lichess.org/training/SafCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAFG2', 'Blitz', 'Sergey3086', 1790, 'Avecesar37', 1764, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Nc3,cxd4,Nxd4,Nxd4,Qxd4,a6,Be3,Ne7,Bd3,Nc6,Qa4,Bd7,Qf4,Qc7,O-O,Nxe5,Be2,Bd6,Qg5,Ng6,h4,h6,Qg4,e5,Qf3,e4,Qh5,O-O,Bxh6,gxh6,Qxh6,Bf4,Qh5,Kg7,Bg4,Rh8,Nxd5,Qxc2,Nxf4,Rxh5,Nxh5+,Kh6,Bxd7,Kxh5,g3,Rg8,b3,Nxh4,Rfc1,Nf3+,Kg2,Qd3,Bf5,Rg5', 'Rh1+,Nh4+,Rxh4#', 'https://lichess.org/training/SAFG2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sAFJY', 'Rapid', 'Jugador_2004_1', 1755, 'mohamedelsheikh', 1759, 'c4,d6,e4,e5,Nf3,g6,d4,Bg7,dxe5,dxe5,Qxd8+,Kxd8,Nc3,Nf6,b3,Re8,Bb2,Nc6,Nd5,Nxd5,exd5,Nd4,Nxd4,exd4+,Kd2,Bf5,Bd3', 'Bh6+,Kd1,Bxd3', 'https://lichess.org/training/sAFJY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAfmL', 'Rapid', 'A_Boy_Agent', 1730, 'Edo1991', 1731, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,O-O,O-O,d3,d6,Be3,Na5,Bxc5,dxc5,Nd5,Nxc4,dxc4,Nxe4,Nxe5,Qg5,f4,Qh4,Qf3,Bf5,Rad1,Rad8,Nxc7,Rxd1,Rxd1,h6,h3,f6,Nd3,g5,fxg5,fxg5,Ne5,Ng3,Kh2,Nh5,g4,Bxc2,Qxf8+,Kxf8,Rd8+,Ke7,Re8+,Kd6', 'Nb5#', 'https://lichess.org/training/SAfmL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sAFYq', 'Rapid', 'kazikgut', 2009, 'Feodor5', 2026, 'e4,Nf6,Nc3,e5,a3,Nc6,Nf3,Bc5,Bc4,d6,h3,O-O,d3,a6,Bg5,h6,Bh4,g5,Bg3,b5,Ba2,Kg7,Nd2,Nd4,Nb3,Nxb3,Bxb3,Nd7,h4,f5,hxg5,Qxg5,Rh5,Qg4,exf5,Qxd1+,Kxd1,Nf6,Rh2,Bxf5,f3,Be3,Ke2,Bg5,Bf2,c5,Rd1,Bg6,Ne4,Bf4,g3,Bg5,Nxd6,Nd7,Bd5,Rab8,Bc6,Be7,Ne4,Bxe4,dxe4,Nb6,Rdh1,Rf6,f4,Rxc6,fxe5,Bg5,e6,c4,Bd4+,Kg6,Be3,Rxe6,Bxg5,hxg5,Rh6+,Kf7,Rh7+,Kf6,R1h6+,Ke5,Rh5,Kxe4,Rf7,Re5,Rf6,Kd5+,Kf2,Na4,b3,cxb3,cxb3,Nc5,b4,Nd3+,Kf1,Rbe8,Rxa6,Re1+,Kg2,R8e2+,Kh3,Rh1+,Kg4,Rxh5,Kxh5,Re5,Rb6,Kc4,Rc6+,Kb3,g4,Ka4,Ra6+,Kb3,Kh6,Nf4,Rf6,Nh3,Rf3+,Ka4,Rxh3,Rd5,Kg6,Re5,Rf3,Rd5,Rf5,Rd3,Rf7,Kxa3,Kxg5,Kxb4,Kf4,Rd4+,Kg3,Kc4,g5,b4,g6,Rd8,Rc7+,Kb3,Rf7,Rg8,g7,Kc3,Kg4,b3,Kg5', 'b2,Rb7,Rxg7+,Rxg7,b1=Q', 'https://lichess.org/training/sAFYq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAhnt', 'Rapid', 'noyes', 1823, 'Sasa_Kostic', 1777, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bg5,Bd7,Bxf6,gxf6,Bc4,e6,Ndb5,Ne5,Be2,Bxb5,Nxb5,Qa5+,c3,O-O-O,Qd4,Qb6,Qxb6,axb6,O-O-O,Rg8,g3,Ng4,Bxg4,Rxg4,f3,Rg6,Rd4,d5,exd5,Bc5,Rh4,Rxd5,Rxh7,Be3+,Kb1,Rxb5,Rxf7,Rgg5,Rxf6,Rgc5,Kc2,Rd5,Rd1,Rxb2+,Kxb2,Rxd1,Rxe6,Re1,Re4,Kd7,h4,Bf2,Rxe1,Bxe1,g4,Bxh4,Kb3,Bg5,Kc4,Kc6,Kd3,Kd5,a4,Kc5,Ke4,Kc4,f4,Bf6,g5,Bxc3,f5,b5,axb5,Kxb5,f6,Kc6,Kf5,Kd7,f7,Bg7', 'Kg6,Bf8,Kh7', 'https://lichess.org/training/SAhnt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SaimW', 'Rapid', 'TarunKC', 1948, 'Dhild', 2010, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,O-O,Bg5,c5,e3,d5,a3,Bxc3+,bxc3,Nbd7,Bd3,Qa5,Qc2,cxd4,Nxd4,dxc4,Bxc4,Qxg5,O-O,e5,Nf3,Qg6,Qxg6,hxg6,Nh4,Kh7,Rfd1,Nb6,Bb3,Bd7,a4,Bc6,a5,Nbd5,Rac1,a6,Nf3,Rfe8,Ng5+,Kg8,e4,Nxe4,Nxe4,Nf4,Ng3,Red8,f3,e4,fxe4,Bxe4,Nxe4,Ne2+,Kf2,Nxc1,Rxc1,Kf8,Ke3,f5,Nc5,Re8+,Kf3,g5,Ne6+,Ke7,Nxg7,Rf8,Re1+,Kf6,Nh5+,Kg6,Ng3,Rad8,Re6+,Rf6,Ke2', 'Rxe6+,Bxe6,Re8,Nxf5,Rxe6+', 'https://lichess.org/training/SaimW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SaiS2', 'Rapid', 'Anukumar', 1838, 'mikmau', 1949, 'd4,c5,dxc5,g6,Nf3,Bg7,Nc3,Qa5,Bd2,Qxc5,e4,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Qc1,O-O,Bh6,Rac8,Bxg7,Kxg7,a3,Rc7,h3,Rfc8,Qd2,Ne5,Nxe5,Qxe5,Rac1,Nxe4,Nxe4,Qxe4,c3,a5,Rfe1,Qc6,Qd4+,Kg8,Re3,b5,Rce1,e6,Qf6,b4,axb4,axb4,cxb4,Qb5,Rc3,Qxb4,Rec1,Rxc3,bxc3,Qb2,Qf4,d5,c4,Rxc4,Rxc4,dxc4,Qxc4,Qa1+,Kh2,Qe5+,g3,h5,h4,Kg7,Qc2,Qf5,Qb2+,Qf6,Qd2,e5,Qe2,Qf5,Kg2,f6,Qb2,Qe4+,Kh2,Qf3,Qd2,f5,Qd7+,Kh6,Qd8,Qxf2+,Kh1,Qe1+,Kg2,Qe2+,Kh3,Qg4+,Kg2,Qe4+,Kh2,Qb7,Qh8+,Qh7,Qxe5,Qg7,Qf4+,Kh7,Qd2,Qf7,Kh3,Kg7,Qd4+,Qf6,Qd7+,Kh6,Qd2+,Kh7,Qd7+,Kh6,Qe8,f4,gxf4,Qc3+,Kg2,Qd2+,Kf1,Qd1+,Qe1,Qxe1+,Kxe1,Kg7,Kf2,Kf6,Ke3,Kf5,Kf3,Kf6,Ke4,Ke6,Kd4', 'Kf5,Ke3,Kg4', 'https://lichess.org/training/SaiS2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saITo', 'Rapid', 'Nikolaj1234', 1993, 'Arianpoor1376', 1859, 'f4,d5,d4,c5,dxc5,Qa5+,c3,Qxc5,Nf3,g6,e3,Bg7,Bd3,Bg4,O-O,e5,fxe5,Bxe5,Qa4+,Bd7,Qb3,Bg7,Nd4,Nf6', 'Qxb7,O-O,Qxa8', 'https://lichess.org/training/saITo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAIZq', 'Blitz', 'ALO04', 1715, 'WFM Regina1962v', 1767, 'd4,d5,e3,Nf6,Bd3,Nc6,c3,a6,Nf3,Bg4,h3,Bh5,g4,Bg6,Bxg6,hxg6,Qd3,Nxg4,Nbd2,e6,Rg1,Nf6,Ng5,Bd6', 'Nxf7,Kxf7,Qxg6+,Ke7,Qxg7+,Ke8,Qxh8+', 'https://lichess.org/training/SAIZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SaJ65', 'Blitz', 'electrochesss', 2446, 'IM KamranShirazi', 2508, 'e4,e5,Nf3,d5,Nxe5,Bd6,d4,dxe4,Nc3,Bxe5,dxe5,Qxd1+,Nxd1,Nc6,Bf4,Nd4,Ne3,Bd7,O-O-O,Ne6,Bg3,O-O-O,Bc4,Ne7,Rhe1,h5,h4,g5,Nd5,Nf5,Rxe4,Nxg3,fxg3,gxh4,gxh4,b5,Be2,Kb7,Bf3,Bc6,Rb4,a5,Rb3,Nc5,Rc3,Na4,Re3,Rhe8,Nc3,Rxd1+,Nxd1,Bxf3,gxf3,Rg8,e6,fxe6,Rxe6,Rg3,Re5,c6,Rxh5,Rxf3,Rg5,Rh3,h5,Rh1,Kd2,Rh2+,Kc1,Rh1,Kd2,Kb6,b3,Nc5,Ke2,Rh2+,Ke1,Rxc2,Nf2,Rxf2,Kxf2,Ne4+,Kf3,Nxg5+,Kf4,Nf7,Kf5,c5,Kf6,c4,Kxf7,c3,h6,c2,h7,c1=Q,h8=Q,Qc7+,Kg6,Qg3+,Kf5,Qf3+,Ke5', 'Qc3+,Kf4,Qxh8', 'https://lichess.org/training/SaJ65');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAkmH', 'Rapid', 'TOMASAPRAHAMIAN', 2119, 'harunsagdic95', 1965, 'd4,Nf6,Nf3,e6,e3,d5,Nbd2,c6,b3,Bd6,Bb2,O-O,c4,Nbd7,Rc1,Qa5,Bc3,Qc7,Bd3,Re8,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Qxe5,cxd5,Nxd5,Nf3,Qh5,a3,Bg4,Be2,Rad8,Qc2,Rxe3,fxe3,Nxe3,Qb2,Nxf1,Rxf1,Qc5+,Kh1,h5,b4,Qe3,Rd1', 'Rxd1+,Bxd1,Bxf3,gxf3,Qe1+,Kg2,Qxd1', 'https://lichess.org/training/SAkmH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sALLB', 'Blitz', 'Reza_rook', 1959, 'fast_player85', 1958, 'e4,e5,Nf3,d6,Bc4,Bg4,O-O,Nc6,h3,Bh5,g4,Bg6,d3,Nf6,Nc3,Nd4,Nxd4,exd4,Ne2,c5,c3,dxc3,Nxc3,Be7,Bf4,O-O,Qd2,Nd7,Nd5,Bh4,Bxd6,Nb6,Bxf8,Nxc4,dxc4,Qxf8,Rae1,Qd6,e5,Qe6,Nf4,Qxc4,Nxg6,hxg6,Qd7,Qxa2,e6,Rd8,Qxf7+,Kh7,Qf4,Qb3,g5,Qxh3,Re3,Bxf2+,Rxf2', 'Rd1+,Rf1,Rxf1+,Qxf1,Qxe3+', 'https://lichess.org/training/sALLB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAn2P', 'Rapid', 'Vasher', 2107, 'rozitabahari1393', 1880, 'c4,e5,g3,f5,Bg2,Nf6,d3,c6,Nc3,d5,Nh3,d4,Nb1,c5,O-O,Nc6,Nd2,Bd6,a3,Bd7,Rb1,Qc8,f4,e4,dxe4,fxe4,Ng5,e3,Nde4,Be7,b4,cxb4,axb4,Nxe4,Nxe4,O-O,c5,Bf5,b5,Qe6,bxc6,Bxe4,Bxe4,Qxe4,Qb3+,Kh8,cxb7,Rab8,Ba3,Qc6,Rfc1,Rfd8,Qb5,Qxb5,Rxb5,d3,exd3,Rxd3,Bb4,a6,Rb6,Bd8,Rxa6,Rxb7,Ba5,Bxa5,Rxa5,Rb8,c6,e2,Kf2', 'Rd1,Kxe2,Rxc1', 'https://lichess.org/training/SAn2P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sancc', 'Rapid', 'PhaniSrinivasChess', 1823, 'rullll1', 1767, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,Be7,d4,exd4,Nxd4,Nxe4,Nxc6,bxc6,Bxe7,Qxe7,O-O,O-O,Re1,d5,Bxd5,cxd5,Qxd5,Qf6,Qxe4,Bf5,Qb4,Bxc2,Nc3,Qg6,Nd5,Qg5,Ne3,Bg6,Rad1,Rab8,Qc3,c5,Rd5,Qe7,Nf5,Qb7', 'Qxg7#', 'https://lichess.org/training/Sancc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAOkP', 'Rapid', 'Medzid1965', 1813, 'bodymahamad', 1722, 'd4,d5,Bf4,Nc6,e3,a6,c3,e6,Nd2,Bd6,Bg3,Bxg3,hxg3,Nf6,Bd3,Bd7,Ngf3,Qe7,Qb3,O-O-O,Qc2,e5,dxe5,Nxe5,Nxe5,Qxe5,Nb3,Bc6,Nc5,d4,cxd4,Rxd4,Kf1,Rdd8,Nxa6,Rxd3,Qxd3,bxa6,Qxa6+,Kd7,Rd1+,Nd5,Qc4,Re8,b4,Qe6,Qc5,Kc8,b5,Bb7,a4,Qe4,Rh4', 'Nxe3+,fxe3,Qxg2+', 'https://lichess.org/training/SAOkP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SaQ0v', 'Rapid', 'KalunCAS', 1764, 'Pacorroap', 1723, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Neg5+,Ke8,d4,e4,Ne5,Nxe5,dxe5,h6,Qh5+,Kd7,Nf7,Qe8,Bf4,g5,Bg3,Bg7,e6+,Kxe6,Qg6+,Kd7,O-O-O,Rg8,Rxd5+,Ke7,Re1', 'Bxb2+,Kxb2,Rxg6', 'https://lichess.org/training/SaQ0v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saQOu', 'Rapid', 'pjsten', 1762, 'Laulaud', 1728, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Be2,Bg4,O-O,Nd7,h3,Bxf3,Bxf3,O-O-O,Re1,d5,Nc3,Ndf6,Bg5,h6,Bxf6,Qxf6,Nb5,c6,Bxe4,dxe4,Qg4+,Kb8,Qg3+,Kc8,Nxa7+,Kd7,Rxe4,Ra8,Qg4+,Kc7,Qg3+,Bd6,Nb5+,cxb5,Qc3+,Kd7,Qb3,Ra5,c4,bxc4,Qxb7+,Bc7,Rae1,Rb8', 'Re7+,Qxe7,Rxe7+,Kxe7,Qxc7+', 'https://lichess.org/training/saQOu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAqTd', 'Rapid', 'svanikgoel30', 1828, 'Preeyansh', 2110, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,Bg5,c6,a3,Bd6,Re1,Rb8,b3,Re8,Qf3,Be5,Bxf6,Qxf6,Qxf6,gxf6,Rad1,Bg4,f3,Bxc3,Rxe8+,Rxe8,fxg4,Bd4+,Kf1,Kg7,Re1,Be5,h3,h6,Kf2', 'Bg3+,Kxg3,Rxe1', 'https://lichess.org/training/SAqTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sARij', 'Blitz', 'babyboy12', 1894, 'ogredik', 1886, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,Nc3,d5,d4,Bb4,Bd2,O-O,Be2,Nc6,O-O,Ne4,Bd3,Nxd2,Qxd2,Qf6,a3,Ba5,Rfe1,Bg4,Re3,Rae8,Rae1,Rxe3,Rxe3,Bxf3,Rxf3,Qxd4,Qg5,Bxc3,bxc3,Qe5,Qh4,h6,Re3,Qg5,Qh3,d4,Rg3,Qc1+,Bf1,dxc3,Rxc3,Nd4,Qd3,Ne6,g3,Rd8,Qe2,Rd2,Qf3,Rd1,Qe2,Nd4,Qe8+,Kh7,Qe4+,g6,Rxc7', 'Rxf1+,Kg2,Rg1+,Kh3,Qf1+', 'https://lichess.org/training/sARij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sarqf', 'Rapid', 'aselimgul', 1604, 'leandrinhof13', 1606, 'd4,c5,d5,e5,e4,d6,Nf3,Nf6,Nc3,Bg4,Bb5+,Nbd7,Bg5,Be7,h3,Bh5,a3,O-O,O-O,Qb6,Bxf6,Nxf6,Be2,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/sarqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saRQq', 'Rapid', 'Tofiqb', 1717, 'dheitkam', 1707, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,a4,a6,b3,cxd4,cxd4,Nge7,Ba3,Bd7,b4,Nxb4,Qb3,a5,Nc3,Nf5,Bb5,Bxb5,Nxb5,Be7,O-O,O-O,g4,Nh6,h3,Rac8,Rfc1,Kh8,Ne1,Rc6,Nd3,Rfc8,Rxc6,bxc6,Rc1,Qb8,Nxb4,axb4,Bxb4,Bxb4,Qxb4,cxb5,Rxc8+,Qxc8,axb5,Qc1+', 'Kg2,Ng8,b6,h5,b7', 'https://lichess.org/training/saRQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sAStK', 'Classical', 'Bormenkov', 1739, 'cinarse12345', 1777, 'd4,d5,c4,e6,a3,Nf6,Bg5,Be7,cxd5,exd5,Nf3,c6,Nc3,O-O,Bxf6,Bxf6,e4,dxe4,Nxe4,Re8,Bd3,Bxd4,Nxd4,Qxd4,Qe2,f5', 'Nf6+,gxf6,Qxe8+', 'https://lichess.org/training/sAStK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAtoc', 'Rapid', 'mtnakgul', 1900, 'alekhinos', 1875, 'e4,e6,f4,d5,e5,c5,Nf3,Ne7,d3,Nf5,Be2,Nc6,g4,Nfd4,c3,Nxe2,Qxe2,Bd7,O-O,Be7,Na3,a6,Nc2,Qb6,Kg2,O-O-O,d4,cxd4,Ncxd4,Nxd4,Nxd4,f6,Be3,Bc5,Qf2,Rdf8,b4,Bxd4,Bxd4,Qb5,Bc5,Rf7,Bd6,fxe5,Qa7,Qe2+,Rf2,Qxg4+,Kh1,Bc6,Qb8+,Kd7,Qc7+,Ke8,Qb8+,Kd7', 'Qc7+,Ke8,Qc8#', 'https://lichess.org/training/SAtoc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAUAN', 'Rapid', 'Massimo123', 1813, 'Borislav_ua', 1715, 'f4,d6,e4,c6,d4,d5,e5,Bf5,g3,e6,Nd2,Nd7,c3,Rc8,Nh3,c5,g4,Bg6,f5,exf5,Qf3,fxg4,Qxg4,f5,Qf3,cxd4,Qxd5,dxc3,Qe6+,Ne7,bxc3,Rxc3,Nf4,Re3+,Kf2,Rxe5,Qc4,Bf7,Qc3,Qb6+,Kg2,Nd5,Nxd5,Bxd5+,Nf3,Bxf3+,Kxf3,Bb4,Qc8+,Qd8,Qxd8+,Kxd8,Bg5+,Nf6,Rd1+,Ke7,Bc4,h6,Bxf6+,gxf6,Rhg1,Bd6', 'Rg7+,Kf8,Rf7+,Ke8,Rxd6', 'https://lichess.org/training/SAUAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SaUHc', 'Rapid', 'PogToTheChamp', 1730, 'der_Echte1', 1646, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Nxe5,Rxe5+,Be7,Nc3,Nxb5,Nxb5,c6,Rxe7+,Kxe7,Qe2+,Kf8,Nd6,Qe7,Qxe7+,Kxe7,Nf5+,Kf8,b3,d5,Ng3,Be6,Bb2,h5,Re1,Re8,f4,h4,Ne2,Bg4,Kf2,Rxe2+,Rxe2,Bxe2,Kxe2,h3,g3,Rh6,f5,Ke7,Bxg7,Rh5,g4,Rg5,f6+,Ke6,Kf3,Re5,Kf2,Re4,g5,Kf5,Bh6,Rh4,Kg3,Re4,Kf2,Kg4', 'g6,fxg6,f7', 'https://lichess.org/training/SaUHc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sawtU', 'Rapid', 'unistavac', 1944, 'Volcado', 1871, 'd4,g6,Bf4,Bg7,h3,d6,e3,Nf6,Nf3,O-O,a3,Nc6,c4,Re8,Be2,e5,Bh2,exd4,exd4,Bf5,Nc3,d5,c5,Ne4,O-O,Ng5,Nxg5,Qxg5,Bb5,Be4,f3,Bxd4+,Kh1,Bf5', 'Bxc6,bxc6,Qxd4', 'https://lichess.org/training/sawtU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SAXMD', 'Rapid', 'Vince1', 1622, 'barboribis', 1624, 'e4,b6,Nf3,Bb7,Nc3,Nf6,d3,d5,exd5,Nxd5,Nxd5,Bxd5,c4,Bb7,d4,e5,Nxe5,Qe7,Qe2,Qb4+,Bd2,Qxb2,Rd1,Be7,d5,O-O,Qg4,Bb4,Nd3,Bxd2+,Rxd2,Qb1+,Qd1,Re8+,Be2,Qxd1+,Kxd1,Nd7,Re1,Nf6,f3,c6,Nb4,cxd5,Nxd5,Nxd5,cxd5,Rad8,Bc4,Rxe1+,Kxe1,a6,d6,b5,Bb3,Kf8,Kf2,f6,Be6,g5,Bf5,Kg7,g4,a5,a3,b4,axb4,axb4,Kg3,Bc6,f4,gxf4+,Kxf4,b3,d7,Ba4,Re2,Bxd7', 'Re7+,Kf8,Rxd7', 'https://lichess.org/training/SAXMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SaxMl', 'Rapid', 'yousef1234', 1807, 'miniond', 2065, 'e4,Nc6,Nc3,e6,f4,d5,e5,Nge7,g4,Ng6,d4,Qh4+,Ke2,Qxg4+,Nf3,Nxf4+,Bxf4,Qxf4,Nb5,Kd8,Rg1,g6,Ng5,Bh6,h4,Qxh4,Nxf7+,Ke7,Qd3,Rf8,Nxh6,Qf2+,Kd1,Qxg1', 'Qa3+,Kd7,Qxf8', 'https://lichess.org/training/SaxMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SaXpw', 'Blitz', 'rde0405', 1559, 'javad280', 1569, 'e4,e5,Nc3,Bb4,Nge2,Bxc3,Nxc3,d6,Bc4,Nf6,d4,Nc6,d5,Ne7,Bg5,Nfg8,O-O,f6,Bh4,c6,dxc6,Nxc6,Bd5,Nge7,Qh5+,Ng6,Rad1,Ne7,Bb3,Qb6,Nd5,Nxd5,Bxd5,Qxb2,c4,Qxa2,f4,exf4,Rxf4,Ke7,Rg4,Bxg4,Qxg4,Ne5,Qe6+,Kf8,Bxf6,gxf6,Qxf6+,Ke8,Qe6+,Kd8,Rf1,Kc7,Qe7+,Nd7,e5,Qa3,c5,Qxc5+,Kh1,Qxd5,Rc1+,Kb6,Qxd7,Qxe5,Rb1+,Ka6,Qa4+,Qa5', 'Qc4+,b5,Qc6+,Qb6,Ra1#', 'https://lichess.org/training/SaXpw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saZ0n', 'Rapid', 'jfa41', 1702, 'Mess-Mend', 1777, 'e4,g6,d4,Bg7,Nf3,e6,Be2,Ne7,Be3,O-O,Nc3,d6,h4,h5,Ng5,f5,Bxh5,Bh6,exf5,Nxf5,Bxg6,Nxe3,fxe3,Bxg5,hxg5,Qxg5,Bh7+,Kg7,Qe2,Qg3+,Kd1,Rf2,Qh5,e5,Ne4', 'Bg4+,Qxg4+,Qxg4+', 'https://lichess.org/training/saZ0n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saZ40', 'Rapid', 'Smogol', 1870, 'ikiopo', 1885, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Bd7,O-O,c4,b3,cxb3,axb3,Nge7,Ba3,Ng6,Bxf8,Nxf8,c4,dxc4,bxc4,Ng6,c5,Qb2,Na3,Na5,Qd3', 'Nf4,Qe3,Nxe2+', 'https://lichess.org/training/saZ40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saZbf', 'Rapid', 'Renfield', 2035, 'moteriyadeep', 1878, 'f4,Nc6,Nf3,g6,d4,d5,e3,Bg7,a3,Nf6,Bd3,Bg4,O-O,O-O,Nbd2,Qd7,c4,Rad8,b4,a6,Qc2,dxc4,Nxc4,Bxf3,Rxf3,Nxd4,exd4,Qxd4+,Be3,Qxa1+', 'Rf1,Nd5,Rxa1', 'https://lichess.org/training/saZbf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saZer', 'Blitz', 'Cchibuzorrr', 1653, 'PLUGG', 1824, 'e4,e5,f4,d5,exd5,e4,d3,exd3,Qxd3,Nf6,c4,Bc5,h3,O-O,Nf3,Re8+,Be2,Ne4,Be3,Bxe3,Qxe3,Ng3,Qg1,Rxe2+,Kd1,Qe7,Nc3,Qb4,Nxe2,Nxe2,Kxe2,Qxb2+,Nd2,Bf5,Qe3,Na6,a3,Qf6,g4,Bd7,Kf2,Re8,Qf3,Qd4+,Kg3,Re3,Rhe1,Rxf3+,Nxf3,Qxc4,d6,cxd6,Rac1,Qd5', 'Rc8+,Bxc8,Re8#', 'https://lichess.org/training/saZer');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('saZHG', 'Blitz', 'MF_Robaina', 1771, 'GC22', 1672, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nh5,Bc4,Bg7,Ng5,e6,g4,Qa5+,Bd2,Qc7,f4,Nc6,Qe4,Nxe5,fxe5,Bxe5,c3,Ng7,Rf1,O-O,h4,Bg3+,Kd1,f5,gxf5,Nxf5,h5,Kg7,h6+,Nxh6,Rxf8,Kxf8,Nxe6+,dxe6,Bxh6+,Kg8,Bxe6+,Kh8,Qf3,Qd6+,Nd2,Bxe6', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/saZHG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SB5YZ', 'Classical', 'S_Aziz98', 1664, 'Elsayed-Sraya', 1671, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,a6,Ba4,b5,Bb3,a5,c3,a4,Bd5,Nxd5,exd5,Ne7,Nxe5,Nxd5,Qf3,Qe7,Qxd5,Ra5,Be3,c6,Qe4,d5,Qf4,Bb7,O-O,f6,Ng4,h5,Nxf6+,gxf6,Qb8+,Kf7,Nd2,Qd7,Bc5', 'Ra8,Qxa8,Bxa8', 'https://lichess.org/training/SB5YZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sB81y', 'Rapid', 'suun', 1798, 'krystof53', 1862, 'd4,Nf6,e3,e6,Bd3,b6,f4,Bb7,Nf3,Ne4,O-O,d5,Nbd2,Bd6,Ne5,Nd7,Qh5,O-O,c3,Ndf6,Qh3,Nxd2,Bxd2,Bxe5,fxe5,Ne4,Bc1,f5,exf6,Rxf6,Bxe4,Rxf1+,Kxf1,dxe4,Bd2,Qf6+,Kg1,Ba6,b3', 'Rf8,Qxe6+,Qxe6', 'https://lichess.org/training/sB81y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sb8aE', 'Bullet', 'black-burne', 1575, 'jun80', 1560, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Ng4,cxd4,d6,exd6,Bxd6,O-O,O-O,Nc3,Qf6,h3,Nh6,Bg5,Qg6,Bd3,Bf5,Bxf5,Nxf5,Qb3,Rab8,Be3,h6,d5,Ne5,Nxe5,Bxe5,Ne2,Nh4,Ng3,Bxg3,fxg3,Qxg3,Rf2,Rfe8,Bxa7,Rbd8,d6,Rxd6,Qxf7+,Kh7,Qxe8,Rf6,Raf1,Rg6,Bd4', 'Nf3+,Kh1,Qh2#', 'https://lichess.org/training/Sb8aE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sB8vl', 'Rapid', 'Folclore', 1886, 'Towelie1356', 1884, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,c3,h6,Re1,d6,Nbd2,Bg4,h3,Bh5,Nf1,a6,Bb3,b5,Ng3,Bg6,Nh4,b4,Nxg6,Kh7,Nxf8+,Qxf8,Qf3,bxc3,bxc3,a5,Nf5,a4,Qg3,axb3,Be3,Bxe3,fxe3,b2,Rab1,Rxa2,Re2,g6,Nh4,Qb8,Qf3,Ra1,Ree1,Rxb1,Rxb1,Kg7,Qe2,d5,exd5,Nxd5,Rxb2,Qa7,d4,Nxe3,Qxe3,Qa1+,Kh2,Qxb2,dxe5,Qb5,e6,Qe5+', 'Qxe5+,Nxe5,e7', 'https://lichess.org/training/sB8vl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SbA87', 'Rapid', 'idriskeles', 1695, 'krzysiekstasilas', 1785, 'e4,d5,exd5,Nf6,Nf3,Nxd5,c4,Nb6,d4,Bg4,Be2,e6,O-O,Be7,b3,Nc6,Be3,Bf6,Na3,Bxf3,Bxf3,Nxd4,Bxb7,Rb8,Be4,Nf5,Qxd8+,Rxd8,Rad1,Rxd1,Rxd1,Nxe3,fxe3,O-O,Nb5,Bg5,Kf2,f5,Bf3,e5,Nxc7,e4,Be2,Rd8,Rxd8+,Bxd8,Nd5,Nxd5,cxd5,Kf7,Bc4,Ke7,g3,Kd6,h3,a5,a4,Bb6,Ke2,g5,g4', 'f4,exf4,gxf4', 'https://lichess.org/training/SbA87');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SbaEn', 'Rapid', 'zingaro-cattivo', 1605, 'ortdox', 1610, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,Nge7,Nc3,a6,e5,d5,Bg5,h6,Be3,Nf5,Bd3,Nxe3,fxe3,Bb4,a3,Bxc3+,bxc3,O-O,e4,dxe4,Bxe4,Bd7,O-O,f5,Bd3,Qa5,Qd2,Rac8,Rf2,Ne7,Rb1,b5,Bc2,Qxa3,g4,Qxc3,Qxc3,Rxc3,gxf5,Rxf5,Bxf5,Nxf5,Rbf1,Ne3,Ra1,Ng4,Rxa6,Nxf2,Kxf2,b4,Ra8+,Kh7,Nd2,Rc2,Ke2,b3,Kd1,Rc3,Rb8,Ba4,Rb4,Bc6,Nxb3,Ba4,Rxa4,Rxb3,Ra6,Rd3+,Ke2,Rxd4,Rxe6,Rh4,Rd6,Rxh2+,Kf3,Rh5,e6,Re5,Kf4,Re1,Kf5,h5,Rd7,h4,Rd8,h3,Rd2,Kh6,Rh2,Re3,Ra2,Re1,Rh2,Re3,e7,g6+,Kf6,Kh5', 'Rxh3+,Rxh3,e8=Q,Rf3+,Kg7', 'https://lichess.org/training/SbaEn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SBB6n', 'Classical', 'Martanow-2018', 2017, 'Paradoxical_Mind', 2131, 'd4,Nf6,c4,e6,g3,d5,Bg2,c6,Nf3,Bd6,O-O,Nbd7,Nbd2,O-O,Qc2,Re8,b3,e5,cxd5,cxd5,dxe5,Nxe5,Nd4,Bd7,Bb2,Rc8,Qd1,Nc6,Rc1,Qa5,Bc3,Bb4,Nxc6,bxc6,Bxb4,Qxb4,e3,Bg4,Qc2,c5,Nf3,Ne4,Rfe1,d4,h3,Bxf3,Bxf3,Ng5,Bg4,Rc7,exd4', 'Rxe1+,Rxe1,Qxe1+', 'https://lichess.org/training/SBB6n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SbBCg', 'Blitz', 'Cadlag', 2390, 'GM ethereumclassic', 2260, 'e4,e6,d4,d5,Nd2,Be7,e5,c5,c3,cxd4,cxd4,Nc6,Ndf3,Qb6,Bd3,Bd7,Ne2,Nh6,O-O,Nf5,Bb1,O-O,g4,Nh4,Nxh4,Bxh4,Qd3,g6,Bh6,Be7,Bxf8,Bxf8,h3,Bg7,Bc2,Nb4,Qd2,Nxc2,Qxc2,f6,exf6,Bxf6,Qd2,Rf8,Rad1,Bh4,Nc3,Qd6,Kg2,Bc6,Rfe1', 'Rxf2+,Qxf2,Bxf2', 'https://lichess.org/training/SbBCg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sbBYP', 'Rapid', 'MBizz', 1702, 'joshragh2', 1696, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bh4,c6,Qc2,d5,Nf3,O-O,e3,Nbd7,Bd3,Bxc3+,Qxc3,b6,O-O,c5,cxd5,exd5,dxc5,bxc5,b3,Qb6,Rac1,Ba6,Bxa6,Qxa6,Bxf6,Nxf6,Qxc5,Rac8,Qd4,Rxc1,Rxc1,Qxa2,Qc3,Ne4,Qc2,Qa6,Nd4,Qg6,g3,Qb6,Qc6,Qb8,Qxd5,Ng5,Qf5,Qb7,h4,Ne4,Rc2,Nd6,Qc5,Ne8,Nc6,Nf6,b4,Rc8,Qxa7', 'Qxa7,Nxa7,Rxc2', 'https://lichess.org/training/sbBYP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SbBYv', 'Blitz', 'alexey87', 1872, 'KurKos11', 1809, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Nc3,Nxc3,bxc3,Qf6,Nf3,Bg4,Bd5,c6,Be4,Nd7,h3,Bxf3,Bxf3,e4,Bxe4,Qxc3+,Bd2,Qd4,O-O,Bc5,Qg4,Nf6,Qxg7,Nxe4,Qxd4,Bxd4,Rae1,O-O-O,Rxe4,f5,Re7,h5,Bf4,Rdg8,Rc7+,Kd8,Re1,Rg6,Ree7,Rhg8,Rxb7', 'Rxg2+,Kf1,Rxf2+,Ke1,Rg1#', 'https://lichess.org/training/SbBYv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SBEJN', 'Rapid', 'Venarich', 1964, 'ty46gfrt54', 1933, 'd4,Nf6,Nf3,e6,c4,Bb4+,Nc3,d5,e3,Nc6,Bd2,Bd7,a3,Bxc3,bxc3,O-O,c5,Ne4,Bd3,Nxd2,Nxd2,e5,Qh5,e4,Be2,Be6,O-O,Ne7,Bg4,Bxg4,Qxg4,Ng6,c4,f5,Qg3,f4,Qg4,f3,Qe6+,Kh8,cxd5,Qg5,g3,Qh5,Kh1,Rfe8,Qd7,Re7,Qb5,Qxd5,Rab1,c6,Qc4,Qf5,a4,Qh3,Rg1,Rf8,a5,a6,Rb6,Rf6,Qb3,Nf8,Rxb7,Rh6,Nf1,Ree6,Rb8', 'Qxh2+,Nxh2,Rxh2+,Kxh2,Rh6#', 'https://lichess.org/training/SBEJN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SbeyQ', 'Rapid', 'Yasin_dyzeL', 1634, 'Magnus_Carlsen_Hero', 1678, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,Nc6,O-O,g6,d4,cxd4,Nxd4,Nxd4,Qxd4,Bg7,Nd5,O-O,Nxf6+,Bxf6,Qd3,Be6,Bd2,Bxc4,Qxc4,Bxb2,Rab1,Be5,Rxb7,Kh8,Bc3,Bxc3,Qxc3+,f6,Rd1,Rb8,Rxa7,Kg8,f4,Qb6+,Qd4,Qxd4+,Rxd4,Rb1+,Kf2,e5,fxe5', 'fxe5+,Ke3,exd4+', 'https://lichess.org/training/SbeyQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sBfkG', 'Classical', 'Nordlead', 1733, 'mahmoudali337', 1711, 'd4,e6,Bf4,d5,Nf3,Nf6,Nc3,Bd6,Ne5,Nfd7,e3,f6', 'Qh5+,g6,Nxg6', 'https://lichess.org/training/sBfkG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sBfnx', 'Rapid', 'SW0815', 1958, 'evysezosu', 2009, 'c4,c6,Nf3,d5,g3,Nf6,Bg2,Bf5,Qb3,Qb6,Qxb6,axb6,cxd5,cxd5,Nc3,e6,Nb5,Na6,d3,Bb4+,Bd2,O-O,Bxb4,Nxb4,O-O,Nxa2,Nd6,Bg6,Ne5,Nb4,Rfc1,Ra6,Nxb7,Rxa1,Rxa1,Rb8,Nd6,Ne8,Nb5,f6,Nxg6,hxg6,d4,Rc8,Bh3,f5,Bf1,Rc2,Ra8,Kf8', 'Nd6,Ke7,Nxe8', 'https://lichess.org/training/sBfnx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sBG90', 'Rapid', 'nulozechecs', 1973, 'clinicalwinner', 1947, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,a6,Bc4,b5,Bd5,Nxd5,Qxd5,Ra7,Be3,Bb7,Qd2,Ra8,O-O-O,Be7,Nd5,Bxd5,Qxd5,Nd7,Qc6,Rc8,Qxa6,Qc7,Rd2,O-O,Qxb5,Rb8,Qd5,Nf6,Qd3,Qa5,a3,d5,Nxe5,dxe4,Qc3', 'Qxc3,bxc3,Bxa3+', 'https://lichess.org/training/sBG90');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sbGaR', 'Rapid', 'freshnice', 2428, 'Nytik', 2087, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nd7,Bd3,Bxd3,Qxd3,e6,Bf4,Qa5+,Bd2,Bb4,c3,Be7,c4,Qc7,O-O-O,Ngf6,Ne4,O-O,g4,Nxg4,Rdg1,f5,Ne5,Ndxe5,Qg3,Nd3+,Qxd3,fxe4,Qxe4,Nf6,Rxg7+,Kxg7,Qg6+,Kh8,Qxh6+,Nh7,Rg1,Rg8,Rg6,Rxg6,hxg6,Bf6,gxh7,Qg7,Qh3,Re8,Qh5,Re7,Qc5,Qxh7,Qxa7,Qh1+,Kc2,Qe4+,Kb3,Qxd4,Qb8+,Kg7,Bc3,Qb6+,Kc2,Bxc3,Qg3+,Kf7,bxc3,Rd7,Qf4+,Ke7,Qg5+,Ke8,Qg8+,Ke7,Qg5+,Kf8,Qf6+,Rf7,Qh8+,Ke7,Qh4+,Kd7,f3,Rxf3,Qh7+,Ke8,Qh5+,Rf7,c5,Qb5,Qh8+,Kd7,Qd4+,Kc8,Qh8+,Kd7,Qd4+,Ke8,Qh8+,Ke7,Qh4+,Kf8,Qd8+,Kg7,Qd4+,Rf6,Qd7+,Kg6,Qe8+,Kf5,Qh5+,Ke4,Qh4+,Rf4,Qh7+,Ke3,Qh3+,Rf3,Qh6+,Kf2,Qh2+,Ke1,Qh1+,Qf1,Qh4+,Ke2,Qe4+,Kf2,Qh4+,Ke3', 'Qd4+,Ke2,Qd2#', 'https://lichess.org/training/sbGaR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SbGKa', 'Rapid', 'anonimac5', 1846, 'StuartTaylor1970', 1878, 'd4,Nf6,c4,e6,Nc3,d5,a3,c5,dxc5,d4,Nb5,Bxc5,Nf3,a6,Nbxd4,e5,Nb3', 'Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/SbGKa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sbiSU', 'Rapid', 'jviana', 1947, 'Hebble', 2003, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,dxe5,fxe5,Bf5,Nf3,e6,Be2,Be7,O-O,O-O,Nc3,Nc6,Be3,f6,Rc1,a6,d5,Nxe5,Nxe5,fxe5,Bxb6,cxb6,dxe6,Bxe6,Rxf8+,Qxf8,Nd5,Bc5+,Kh1,Bd4', 'Nc7,Bf5,Nxa8', 'https://lichess.org/training/sbiSU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sbJiU', 'Rapid', 'Fritzling2019', 1762, 'fjorge74', 1793, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Nh5,Qxh5,Nc6,d3,g6,Qe2,Bh6,Nf3,O-O,a3,Re8,d4,d6,Bd2,Bg4,O-O-O,Nxd4,Qe4,dxe5,Ne2,Bf5,Bxf4,Bxe4,Bxh6,Nxe2+,Bxe2,Qe7,Bg5,Qc5,Rd2,Re6,Rhd1,Rd6,Ne1,Rxd2,Rxd2,Qf2,Kd1,Qb6,Kc1,Qe6,Kb1,Bf5,h3,a5,Nf3,f6,g4,Bxg4,hxg4,fxg5,Nxg5,Qf6,Bc4+,Kg7,Ne6+,Kh8,Rd1,Qe7,Re1,b5,Ba2,Ra6,Rxe5,Rxe6,Rxe6,Qd7,Re1,Qxg4,b4,a4,Re8+,Kg7,Rg8+,Kh6,Rd8,g5,Rd3,Qf4,Bd5,g4,Bc6,g3,Rf3,Qg5,Rf1,Kg6,Be8+,Kh6,Rh1+,Kg7,Rg1,Qf4,Bc6,Qf2,Rg2,h5,Bd5,h4', 'Rxf2,gxf2,Bg2,Kf6,Kc1', 'https://lichess.org/training/sbJiU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sBKez', 'Rapid', 'ymat314', 1716, 'imakethenews', 1625, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,h3,d5,exd5,Nxd5,O-O,Be6,Bxd5,Bxd5,Nc3,Nd4,Nxe5,Qf6,Re1,O-O-O,Nxd5,Rxd5,Qg4+,Ne6,Qf3', 'Rxe5,Rxe5,Qxe5', 'https://lichess.org/training/sBKez');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sbmfZ', 'Blitz', 'ChalanaHH', 2257, 'Nino67', 2300, 'e4,c5,c4,g6,Nc3,Nc6,g3,Bg7,Bg2,d6,Nge2,e6,O-O,Nge7,d3,O-O,Be3,Rb8,Qd2,Nd4,Bh6,Nec6,Bxg7,Kxg7,f4,f5,Nxd4,Nxd4,Rae1,Qf6,e5,Qe7,exd6,Qxd6,Re5,Nc6,Nb5,Qe7,Bxc6,bxc6,Nc3,Rd8,Qe3,Rxb2,Re1,Qd6,Na4,Rxa2,Nxc5,Qd4,Qxd4,Rxd4,Rxe6,Ra5,Re7+,Kh6,R1e5,Ra1+,Kg2,Ra2+,Kh3,a5,Rc7,Rd8,Ree7,Rh8,Nb3,a4,Nd4,Rf2,Nxc6,a3,Ne5,a2,Nf7+,Kh5,Nxh8,h6,Ra7,a1=Q,Rxa1,g5,fxg5', 'f4+,Rd7,Bxd7+,g4+,Bxg4#', 'https://lichess.org/training/sbmfZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SbnKH', 'Blitz', 'asman', 1854, 'maliarslan7', 1694, 'e4,c5,f4,e6,Nf3,Be7,Bc4,d5,Bb5+,Nd7,exd5,exd5,O-O,Nf6,Ne5,O-O,Be2,Nxe5,fxe5,Nd7,d4,cxd4,Kh1,Nxe5,Qxd4,Bf6,Qf2,Ng4,Bxg4,Bxg4,c3,Bh4,Qf4,Be2,Rg1,Re8,Na3,Re4,Qd2,Bf2,Nc2,Rh4,Qxe2', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/SbnKH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SBNKL', 'Blitz', 'jirikkk', 2021, 'Rikke83', 2008, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,h3,Nc6,Bd3,e6,O-O,Bd6,c3,O-O,Bg5,a6,Nbd2,h6,Bh4,Re8,Re1,g5,Bg3,Bxg3,fxg3,Qb6,Qc2,e5,Bf1,exd4,Rxe8+,Nxe8,cxd4,Nxd4,Nxd4,Qxd4+,Kh2,Be6,Nf3,Qf6,Re1,Nd6,Bd3,Rc8,Qe2,Bf5,Bxf5,Qxf5,Qe5,Qxe5,Rxe5,Rc1,Rxd5,Ne4,Rd4,Nf2,g4,Kg7,Kg3,Nh1+,Kh2,f5,gxf5,Kf6,Rd6+,Kxf5,Rxh6,Nf2,Rh7', 'Rh1+,Kg3,Ne4#', 'https://lichess.org/training/SBNKL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sbnve', 'Classical', 'GuenterLeipzig', 1816, 'Paul278', 1761, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,c3,Be6,b4,Bd6,a4,O-O,O-O,Qf6,b5,Na5,Bxd5,Bxd5,Nbd2,Be6,Ne4,Qd8,c4,c5,h3,a6,Bd2,b6,Bxa5,bxa5,Rb1,axb5,cxb5,f6,Qc2,Rc8,Qc3,Bd5,Nxd6,Qxd6,Qxa5,Ra8,Qc3,Rxa4,Rfd1,Bxf3,gxf3,Rb8', 'Qb3+,Kf8,Qxa4', 'https://lichess.org/training/sbnve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sboha', 'Rapid', 'wildedchessington', 1791, 'GrandHedgehog', 1772, 'e4,e6,f4,d5,e5,Nd7,d4,f6,Nf3,c5,c3,a6,Be2,b5,O-O,Qc7,Nh4,Ne7,Bh5+,g6,f5,Nxf5,Nxf5,exf5,Bf3,Nb6,exf6,Bd7,Re1+,Kf7,dxc5,Nc4,Bxd5+,Kxf6,Bxa8,Bxc5+,Kh1,Rxa8,Qf3,Bc6,Qe2', 'Re8,Qxe8,Bxe8', 'https://lichess.org/training/Sboha');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SbP1V', 'Classical', 'SEGPRO', 1647, 'AliSadi1994', 1706, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c3,Nd7,Bd3,Bxd3,Qxd3,c5,b3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Ne7,O-O,O-O,Ng5,Ng6,f4,Qb6,f5,Ngxe5,fxe6,fxe6,Nc3,Ng6,Qe3,Rae8,Rfe1,Rf6', 'Nxd5,exd5,Qxe8+', 'https://lichess.org/training/SbP1V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SBq7o', 'Blitz', 'guilhermelucas', 1816, 'Agerzhyk', 1696, 'c3,c6,d4,d6,Nf3,h6,e4,g5,Bd3,Bg7,Qe2,Nd7,Na3,Nf8,e5,Bg4,h3,Bh5,g4,Bg6,Bxg6,Nxg6,e6,Nf6,exf7+,Kxf7,Bxg5,hxg5,Nxg5+,Kg8', 'Qe6+,Kf8,Qf7#', 'https://lichess.org/training/SBq7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SBS5Z', 'Rapid', 'PEPAS3', 1842, 'halon28', 1888, 'e4,Nf6,Nc3,e5,Bc4,Nc6,a4,a6,d3,h6,Bd2,Bc5,Nf3,d6,h3,Be6,Nd5,Bxd5,exd5,Ne7,b4,Ba7,b5,Nexd5,O-O,O-O,Bb3,Ne7,Kh1,Bb8,Qc1,axb5,axb5,Rxa1,Qxa1,c6,bxc6,bxc6,Qc1,Ng6,Bxh6,gxh6,Qxh6,Nh7,Qxg6+,Kh8,Qh5,d5,Nh4,Qf6,Nf5,Rg8,g4', 'Rg5,Qh4,Rxf5,Qxf6+,Rxf6', 'https://lichess.org/training/SBS5Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SbSPg', 'Rapid', 'alipourapr', 1819, 'Bonny011', 1822, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,Nf6,d4,cxd4,Nxd4,Be7,Qf3,Ne5,Qe2,Nxc4,Qxc4,Nxe4,Nb5,Nc5,b4,d5,Qd4,Ne4,Qxg7,Rf8,Bf4,Bd6,Nxd6+,Nxd6,O-O,b6,Bh6,Kd7,Qxf8,Qxf8,Bxf8,Ba6,Re1,Rxf8,Nd2,Nc4,Nxc4,Bxc4,Re3,f6,a4,e5,Rh3,Rf7,Rh4,Ke6,Rb1,a6,h3,Rc7,Ra1,Bd3,Rc1,e4,Rh5,Rg7,Kh2,Rc7,Kg3,Rf7,Kf4,f5,g3,Ke7,Rxf5', 'Rxf5+,Kxf5,e3+,Ke5,exf2', 'https://lichess.org/training/SbSPg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SbuYs', 'Classical', 'Simka51', 1667, 'arunkuchik', 1685, 'e4,e5,Bc4,Nf6,Qf3,Bc5,Ne2,d6,h3,Nc6,a3,a6,Nbc3,Be6,Bxe6,fxe6,d3,h6,O-O,O-O,Qg3,Nh5,Qg4,Qe8,Bxh6,Nd4,Nxd4,Bxd4,Ne2,Bxb2,Rab1,Bd4,Ng3,Rxf2,Nxh5', 'Rf4+,Kh2,Rxg4', 'https://lichess.org/training/SbuYs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sbvJG', 'Rapid', 'Julmer', 1668, 'gvmkk', 1823, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,O-O,Bc5,c3,dxc3,Nxc3,Bb6,Re1,d6,Nd5,Nge7,Bf4,O-O,b3,Be6,Qd2,Bxd5,exd5,Ba5,Qe3,Bxe1,dxc6,Bxf2+,Kxf2,bxc6,Re1,Nf5,Qc3,d5,Bd3,Nd6,Qxc6,Ne4+,Bxe4,dxe4,Rxe4,Qd1,Qc3,Rfe8,Bxh6,f6,Qxc7,gxh6', 'Rg4+,Kh8,Qg7#', 'https://lichess.org/training/sbvJG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SBvqs', 'Rapid', 'diovinn', 2007, 'geldar', 1987, 'd4,c6,e4,d5,Nc3,dxe4,Nxe4,g6,Be3,Bg7,Qd2,Bf5,Ng3,Bd7,O-O-O,Nf6,Bc4,a5,Bh6,O-O,Bxg7,Kxg7,h4,b5,Be2,h5,Nf3,Bg4,Ng5,Bxe2,Qxe2,Qd5,Kb1,e6,N3e4,Nxe4,Nxe4,Nd7,g4,Nf6,Nxf6,Kxf6,gxh5,Qxh5,Qe5+,Qxe5,dxe5+,Kxe5,h5,gxh5,Rxh5+,Kf6,Rd6,Rac8,c3,Rfd8,Rxd8,Rxd8,Rc5,Rc8,a4,b4,Rxa5,bxc3,bxc3,e5,Rc5,Kf5,a5,Ke4,a6,f6,a7,Kf3', 'Rxc6,Ra8,Rxf6+', 'https://lichess.org/training/SBvqs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sBW99', 'Blitz', 'AhDar27', 1785, 'Chessbwr', 1753, 'b3,Nf6,e3,e5,Ne2,d5,Bb2,e4,Ng3,Be7,Nh5,O-O,Nc3,Nc6,Nf4,Bg4,Be2,Bf5,g4,Bd7,h4,d4,Ncd5,Nxd5,Nxd5,d3,cxd3,exd3,Bxd3,Be6,Nxe7+,Qxe7,h5,Rfd8,Qc2,Nb4,Qc3,Nxd3+,Ke2,Nxb2,Qxb2,Bxg4+,f3,Be6,Rac1,c5,Rhg1,f6,h6,g6,Rg3,b6,Rcg1,c4,Rxg6+,hxg6,Rxg6+,Kf8,Rxf6+,Ke8,Rg6,cxb3,axb3,Kd7,Rg7,Bf7,Qd4+,Kc7,Qf4+,Qd6,Rxf7+,Rd7,Rxd7+,Kxd7,h7,Qf8,Qd4+,Kc6,Qe4+,Kb5,Qe5+,Ka6,Qa1+,Kb7,Qe5,Qh8,Qe4+,Ka6,Qa4+,Kb7,Qe4+,Kc7,Qf4+,Kc6,Qe4+,Kb5', 'Qc4+,Ka5,Qa4#', 'https://lichess.org/training/sBW99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SbWuX', 'Classical', 'joekeres', 1815, 'Duncanflechas', 2157, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,Bd6,Bg5,h6,Bh4,Nbd7,c4,c6,cxd5,cxd5,a3,Qa5+,Nc3,Ne4,Rc1,O-O,Bd3,Nxc3,Rxc3,b5,O-O,b4,axb4,Bxb4,Rc1,Bd6,Ra1,Qb6,Qc2,Bb7,Rfc1,Rfc8,Qb1,Rxc1+,Qxc1,Rc8,Qb1,a5,Bg3,Bxg3,hxg3,Ba6,Bxa6,Qxa6,Qa2,g5,Qxa5', 'Rc1+,Rxc1,Qxa5', 'https://lichess.org/training/SbWuX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sbWyG', 'Classical', 'celcar', 1795, 'alanji', 1773, 'e4,c5,c3,Nc6,d4,e6,Nf3,cxd4,cxd4,d5,e5,Bb4+,Nc3,Nge7,Bd3,O-O,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Re8,Qxf7+,Kh8,Qh5+,Kg8,Qh7+,Kf8,Qh8+,Ng8,Nh7+,Kf7,Ng5+,Kg6,h4,Nf6,h5+,Kf5,Qxg7,Rg8,Qxf6+,Qxf6,exf6,Nxd4,f7,Rxg5,f8=Q+,Bxf8,Bxg5,Nc2+,Kd2,Nxa1,h6,Kxg5,h7,Bg7,h8=Q,Bxh8,Rxh8,a5,Kc1,a4,Kb1,Nb3,axb3,axb3,Re8,e5,Nxd5', 'Bf5+,Kc1,Rxe8', 'https://lichess.org/training/sbWyG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sBxZL', 'Rapid', 'sfanelCSS', 1861, 'basayus88', 1753, 'e4,c5,Nf3,e6,d4,cxd4,c3,dxc3,Nxc3,Bb4,Bc4,Ne7,O-O,h6,Qe2,Bxc3,bxc3,O-O,Rd1,a6,Rb1,b5,Bb3,Bb7,Ba3,Re8,Bd6,Nc8,Be5,d6,Bg3,d5,e5,Qc7,Qd3,Nd7,Bc2,g6,Re1,Ncb6,Nh4,Nf8,Qe3,Kg7,Bf4,g5,Bxg5,hxg5,Qxg5+,Ng6,Bxg6,fxg6,Qxg6+,Kf8,Qf6+,Qf7', 'Ng6+,Kg8,Qh8#', 'https://lichess.org/training/sBxZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sby5Q', 'Rapid', 'sudhamanc', 1749, 'PrWolkonsky', 1768, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bg5,h6,Bh4,g5,e5,Qa5+,c3,Qxe5+,Be2,gxh4,Nf3,Qc7,Nxh4,Bg7,Qd4,O-O,Bd3,Nc6,Qe3,d5,Nd2,e5,Bf5,Ng4,Qg3,Nf6,Bxc8,Raxc8,Nf5,Nh5,Qg4,Ne7,Nxh6+,Kh7,Qxh5,Bxh6,Nf3,Ng6,Ng5+,Kg7,O-O-O,Bxg5+,Qxg5,f6,Qg3,d4,Qh3,Nf4,Qg4+,Kf7,g3,dxc3', 'Rd7+,Ke8,Rxc7', 'https://lichess.org/training/Sby5Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sbyKf', 'Blitz', 'CM MisterFon', 2045, 'Clasher__7', 1972, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,O-O,Nc6,d5,Ne7,Ne1,Ne8,Nd3,f5,f3,f4,c5,g5,cxd6,cxd6,Nf2,Ng6,Bd2,Rf7,Nb5,a6,Na3,h5,Nc4,b5,Ba5,Qf6,Nb6,Rb8,Nxc8,Rxc8,Rc1,Rxc1,Qxc1,Nh4,Qc8,Rf8,Bd8,Qg6,Rd1,Nf6,Qe6+,Kh7,Bxf6,Rxf6,Qd7,g4,fxg4,f3,Bxf3,Nxf3+,gxf3,Rxf3,Rf1,Rf7,Qe6,Rf6,Qd7,hxg4,Qxg4,Qf7,Qh3+,Rh6,Ng4,Rxh3,Rxf7,Rh4,h3,Rxh3,Kg2,Kg6', 'Rxg7+,Kxg7,Kxh3', 'https://lichess.org/training/sbyKf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sbz3C', 'Rapid', 'Kobracan', 2061, 'Kavi_Devakumar', 2072, 'd4,Nf6,Nc3,d5,Bf4,b6,e3,Bb7,Bd3,e6,Nf3,Bb4,O-O,O-O,a3,Bd6,Ne5,Nbd7,Nb5,a6,Nxd6,cxd6,Nf3,Qe7,Nd2,e5,Bg3,Rac8,c3,b5,Nb3,Nb6,Na5,Ba8,Re1,Ne4,Bxe4,dxe4,dxe5,dxe5,Qh5,f6,Red1,Bd5,Rd2,Rfd8,Rad1,Bf7,Qg4,Rxd2,Rxd2,Rd8', 'Nc6,Rxd2,Nxe7+', 'https://lichess.org/training/Sbz3C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sbzU8', 'Blitz', 'SandyRA', 1623, 'javier20625', 1778, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Qc2,cxd4,cxd4,Nxd4,Nxd4,Qxd4,f4,Bd7,Qd2,Bb4,Nc3,Qb6,Qc2,Rc8,Bd2,d4,Bd3,dxc3,Bxc3,Qe3+,Be2,Bxc3+,bxc3,Rxc3,Qd1,Qxf4,Rb1,Qxe5,Rxb7,Qf4', 'Qxd7+,Kf8,Qd8#', 'https://lichess.org/training/sbzU8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SC0WR', 'Rapid', 'SMGC', 2050, 'Robs01', 2087, 'c4,e5,Nc3,c5,e4,Nc6,d3,Nf6,Nf3,h6,Be3,d6,Be2,Be7,O-O,O-O,a4,Bg4,h3,Be6,a5,Qd7,a6,b6,Nb5,Nh7,Nh2,f5,exf5,Rxf5,Bg4,Rf6,Bxe6+,Qxe6,Nc7,Qc8,Nxa8,Qxa8,Ng4,Rg6,Qf3,Bg5,Bxg5,Nxg5,Qd5+,Kh7,f4,exf4,Rxf4,h5,Nh2', 'Nxh3+,Kh1,Nxf4', 'https://lichess.org/training/SC0WR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sc1mn', 'Rapid', 'JLFATaylor', 1698, 'mman62', 1763, 'd4,d5,c4,dxc4,Nf3,e6,e3,b5,a4,Bd7,axb5,Bxb5,Nc3,Bb4,Ne5,Nf6,Be2,O-O,O-O,Bxc3,bxc3,a6,Bf3,Nd5,Qc2,Nd7,Nxd7,Qxd7,Ba3,Rfe8,e4,Nb6,Rfd1,Rab8,Qe2,Ba4,Rd2,f5,e5,Qf7,Bc5,Bb5,Bb4,Nd5,Bxd5,exd5,Re1,Qe6,Qf3,Ra8,Ra1,Qh6,Re2,Qe6,Qh3,f4,Qxe6+,Rxe6,f3,Rb8,Ba5,Rc8,h3,c5,dxc5,Rxc5,Bb6,Rc8,Bd4,g5,Rd1,a5,Rb1,Bc6,Ra2,a4,Rb4,Ra8,Kh2,h5,Kg1,Kf7,Kf2,Kg6,Ke2,Kf5,Kd1,g4,hxg4+,hxg4,fxg4+,Kxg4,Kc1,Rh6,Re2,Rh1+,Kc2,Rh2,e6,f3', 'gxf3+,Kh3,Rxh2+', 'https://lichess.org/training/Sc1mn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sC3wX', 'Blitz', 'Training88', 2312, 'FM Oladipo30', 2373, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng5,e6,N1f3,Nd7,Nh4,Bg6,Bc4,Ngf6,Qe2,Qe7,Nxe6,fxe6,Nxg6,hxg6,Bxe6,O-O-O,O-O,Re8,Re1,Qd6,g3,Qxd4,Bf4,Bc5,c3,Qxf2+,Qxf2,Bxf2+,Kxf2,Rxh2+,Kf3,g5,Bxg5,Rxb2,Bxf6,gxf6', 'Bxd7+,Kxd7,Rad1+,Kc7,Rxe8', 'https://lichess.org/training/sC3wX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sc59W', 'Rapid', 'digre', 1947, 'pikutrex', 1835, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,e6,e5,Nd5,Nf3,Be7,Bd3,c6,O-O,O-O,Nxd5,cxd5,Be3,Nc6,Rc1,Bd7,a3,a6,Bb1,b5,Ne1,Rc8,Nd3,a5,Qg4,f5,exf6,Bxf6,Ne5,Bxe5,dxe5,Nxe5,Qh5,Ng6,Bxg6,hxg6,Qxg6,Qf6,Qxf6,gxf6,Bb6,a4,Bc5,Rfe8,h3,e5,Bb4,d4,Rc5,Rxc5,Bxc5,Kf7,Rc1,Ke6,Kf1', 'Rc8,Ke1,Kd5', 'https://lichess.org/training/Sc59W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sc5Wm', 'Rapid', 'SergiiLarkin', 1748, 'kevinCasey', 1768, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,g6,Qe2,Bg7,e5,d6,Bf4,Bg4,O-O-O,Nxe5,Qb5+,Nc6,Ne5,Rc8,Nxg4,a6,Qb3,Na5,Qc2,b5,Kb1,b4,Qa4+,Kf8,Qxb4,Rb8,Qa3,Qc7,Bd2,Nc4,Bxc4,Qxc4,Ne3,Qc6,Rc1,Nf6,Ncd5,Qb7,Nxf6,Bxf6,Rc2,Kg7,Rhc1,Qe4,f3,Qd4,Bc3,Qb6,Bxf6+,exf6,Rc6,Qd4,Rxd6,Qe5,Re1,Rxb2+,Qxb2,Qxd6,Ng4', 'Rb8,Qxb8,Qxb8+', 'https://lichess.org/training/sc5Wm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sC7EM', 'Rapid', 'viking1994', 2019, 'Khripkov', 1986, 'e4,d6,d4,c6,Nf3,Nd7,Nc3,e5,dxe5,dxe5,Bc4,Be7,h3,Ngf6,O-O,O-O,Bg5,b5,Bb3,b4,Ne2,Nxe4,Bxe7,Qxe7,Re1,Qc5,Rf1,Ba6,Nd2,Bxe2,Nxe4,Bxd1,Nxc5,Nxc5,Raxd1,Rad8,Rxd8,Rxd8,Re1,Re8,f4,Nxb3,axb3,e4,Kf2,f5,g4,g6,gxf5,gxf5,Ke3,Rd8,Rg1+,Kf7,Rg5,Kf6,Rh5,Rd7,Rh6+,Kf7,Rxc6,Rd1,Rc7+,Kg6,Rxa7,Re1+,Kd2,Rf1,Rb7,Rxf4,Rxb4', 'e3+,Ke2,Rxb4', 'https://lichess.org/training/sC7EM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sc7yW', 'Rapid', 'Kon-nos', 1966, 'BishoptoC4', 1826, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,c5,dxc5,Bxc5,Nf3,Qb6,e3,O-O,Rb1,Nc6', 'Na4,Qc7,Nxc5', 'https://lichess.org/training/sc7yW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sC9k4', 'Rapid', 'osvaldomorales', 1701, 'Mashy', 1801, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Nd5,Nxd5,exd5,O-O,Bc4,d6,h3,Bc5,O-O,e4,Nh2,Qg5,d3,Qg6,Kh1,Re8,dxe4,Qxe4,b3,Bxh3,f3,Bxg2+,Kxg2,Qg6+,Kh1,Na6,Bb2,Re3,Bd3,Qh5,f4,Qh3,Qg4,Qh6,Qg5,Qxg5,fxg5,Rae8,Kg2,Nb4,Ng4,R3e7,Rh1', 'Nxd3,cxd3,Re2+,Kg3,Rxb2', 'https://lichess.org/training/sC9k4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sc9rq', 'Rapid', 'Selvin1k983-in', 1734, 'wassermel0n', 1762, 'd4,Nf6,Bf4,g6,Nf3,Bg7,h3,d6,e3,Nbd7,Be2,O-O,c3,Re8,Nbd2,e5,dxe5,dxe5,Bg5,e4,Nd4,h6,Bf4,a6,O-O,Ne5,Bxe5,Rxe5,Nc4,Re8,Qc2,h5,Rad1,Bd7,f3,Rc8,fxe4,Nxe4,Bf3,Qh4,Bxe4,Rxe4,Nf3,Qe7,Rxd7,Qe8,Ng5,Rxc4,Rfxf7,Qxe3+,Kh1', 'Qe1+,Kh2,Be5+,g3,Qxg3+', 'https://lichess.org/training/Sc9rq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ScAux', 'Rapid', 'hz68', 1869, 'allanbie23', 2010, 'e4,c5,g3,Nc6,Nf3,g6,Bg2,Bg7,d3,e6,Bg5,Nge7,c3,h6,Bf4,d5,Qd2,dxe4,dxe4,Qxd2+,Bxd2,O-O,O-O,e5,Be3,b6,Nbd2,Be6,b3,Rad8,Rad1,Rd7,Nb1,Rfd8,Rxd7,Rxd7,c4,Nd4,Nc3,f5,exf5,Nexf5,Bc1,Nxf3+,Bxf3,Nd4,Bg2,Bf5,Bd5+,Kh7,Be3,Nc2,Bc1,Re7,Nb5,e4,Bf4,e3,fxe3,Nxe3,Re1', 'Nxd5,Rxe7,Nxe7', 'https://lichess.org/training/ScAux');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SCBDr', 'Rapid', 'FIANQUETTO', 2010, 'gollydali', 2029, 'Nf3,c5,g3,d5,Bg2,Nc6,d4,e6,O-O,Nf6,Nc3,cxd4,Nxd4,Be7,Bg5,h6,Bxf6,Bxf6,Nxc6,bxc6,e4,d4,e5,Bxe5,Bxc6+,Bd7,Bxa8,Qxa8,Qe2,Qb8,f4,Bc7,Ne4,O-O,c4,Bc6,Nc5,Qb6,Nd3,Re8,b4,a5,b5,Ba8,a4,f6,c5,Qb8,c6,e5,fxe5,fxe5,Qf3,Kh8,Nc5,Bb6,Nd7,Qc7,Qh5,d3+,Rf2,Re6,Qf7,Bxf2+,Kxf2', 'Rf6+,Qxf6,gxf6', 'https://lichess.org/training/SCBDr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('scbLP', 'Classical', 'menkaure', 1733, 'slawitsh-29', 1800, 'Nf3,Nc6,e4,e5,Bc4,Be7,O-O,d6,c3,Nf6,Re1,O-O,d4,Bg4,Be3,a6,Nbd2,exd4,cxd4,b5,Bb3,Na5,Bc2,c5,d5,Nd7,Qb1,Ne5,Nxe5,dxe5,f3,Bh5,Nf1,Bg6,Ng3,Rc8,Qd1,Bh4,Bf2,Nc4,b3,Nd6,Re2,Qd7,Nf1,Bxf2+,Rxf2,c4,b4,f5,Nd2,c3,Nb3,fxe4,Nc5,Qa7,Ne6,Rf6,Ng5,exf3,Nxf3,e4,Nd4,Rcf8,Rxf6,Rxf6,Kh1,a5,Qg1,axb4,Bb3,Qb6,h3,Nf5,d6+,Kf8', 'Ne6+,Rxe6,Qxb6', 'https://lichess.org/training/scbLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sCC20', 'Rapid', 'coopers90', 1898, 'Dirty_One', 1934, 'e4,e5,c3,Nc6,Nf3,Nf6,d3,g6,Be2,Bg7,O-O,O-O,h3,h6,Be3,d5,exd5,Nxd5,Bd2,f5,Qc1,f4,c4,Nde7,Nc3,Nf5,Ne4,Ncd4,Nxd4,Nxd4,Re1,f3,gxf3,Nxf3+,Bxf3,Rxf3,Bxh6,Rxh3,Bxg7,Qh4,Bxe5', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/sCC20');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('scCHS', 'Rapid', 'skreyper85', 1845, 'emiladorean', 1802, 'e4,Nc6,d4,e5,d5,Nce7,c4,Ng6,Bd3,Bb4+,Nc3,Bxc3+,bxc3,d6,Ne2,b6,O-O,Nf6,a4,a5,f4,exf4,Nxf4,Ne5,c5,O-O,cxd6,cxd6,Bc2,Nfg4,Qe2,f5,Ba3,fxe4,Bxe4,Bf5,h3,Nh6,Bxf5,Nxf5,Ne6,Qd7,Nxf8,Rxf8,Rab1,Qd8,Qb5,Nd7,g4,Ne3,Rxf8+,Kxf8,Bxd6+,Kg8,Qd3,Qg5,Re1,Nxd5,Qf3,N7f6,c4,Nb4,Qa8+,Kf7,Qb7+,Kg6,Qxb6,h5,Qd4,hxg4,hxg4,Nxg4,Re6+,Nf6+,Kf2', 'Qf5+,Kg2,Qxe6', 'https://lichess.org/training/scCHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sCcuT', 'Blitz', 'head_or_tails', 1610, 'netanel1', 1635, 'e4,e5,Bc4,Nc6,d3,Bc5,c3,a6,a4,d6,Qf3,Nf6,Qg3,Nh5,Qf3,Nf6,Nh3,Bg4,Qg3,h5,f3,h4,Qxg4,Nxg4,fxg4,Qe7,Ng5,Qf6,Bxf7+,Ke7,Bd5,Qf2+,Kd1,Be3,Bxe3,Qxe3,Rf1,Na5,Rf7+,Ke8,Rxc7,Nb3', 'Bf7+,Kf8,Ne6#', 'https://lichess.org/training/sCcuT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Scdc4', 'Rapid', 'Tombik333', 2003, 'kivy_styles', 1987, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,a6,Bc4,Nf6,Nf3,b5,Bb3,e6,Bg5,Be7,Bxf6,Bxf6,Ne4,Qe7,Nxf6+,Qxf6,O-O,O-O,Re1,Bb7,d5,Rd8,c4,bxc4,Bxc4,exd5,Qe2,Nd7,Bb3,c5,Ba4,Nb6,Qe7,Qxe7,Rxe7,Rab8,Bc2,Kf8,Rae1,Re8,Rc7,Rxe1+,Nxe1,c4,Nf3,h6,h3,Ba8,Ne5,f6,Ng6+,Kg8,Ne7+,Kh8,Nf5,g5,Nxh6,d4', 'Rh7#', 'https://lichess.org/training/Scdc4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ScDFA', 'Blitz', 'Rene1er', 1776, 'LM pythondave', 2210, 'c4,e5,Nc3,Bb4,Qb3,Nc6,a3,Bxc3,Qxc3,d6,g3,Nf6,Bg2,O-O,Nf3,Re8,d3,h6,O-O,Qe7,Re1,Be6,b4,a6,Bb2,Rad8,Rad1,Qd7,d4,exd4,Nxd4,Nxd4,Qxd4,b5,cxb5,axb5,Qc3,Bc4,e3,Qf5,Rd4,Re6,Rf4,Qg5,Bh3,Ree8,Rd1,Nd5,Rxd5,Bxd5,Rg4,Qe5,Qc2,Be4,Bxe5,Bxc2,Bxg7,Kh7,Bf6,Bg6,Bxd8,Rxd8,Rd4,Ra8,e4,Rxa3,Bf5,Rb3,Kg2,c5,bxc5,dxc5,Rd7,c4', 'Rxf7+,Kg8,Bxg6', 'https://lichess.org/training/ScDFA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ScDHz', 'Rapid', 'Evgeny_M', 1714, 'Sokho', 1714, 'e4,d6,d4,g6,Nc3,Nf6,Nf3,Bg7,Be3,Bg4,h3,Bxf3,Qxf3,O-O,O-O-O,Re8,g4,h5,gxh5,Nxh5,Be2,e5,Qg4,Nc6,d5,Nd4,Bxd4,exd4,Nb5,c5,Bd3,Qa5,Kb1,a6,Nxd6,Nf6,Qf3,Red8,Nxb7,Qb6,Nxd8,Rxd8,Qe2,Rb8,b3,a5,f4,a4,Bc4,a3,e5,Nd7,e6,fxe6,dxe6,Nf6,e7+,Kh8,Bf7,Qb4,e8=Q+,Nxe8,Qd3,Nc7,Bxg6,Nb5,Kc1,Nc3,Rde1,Nxa2+,Kd1', 'Nc3+,Kc1,a2', 'https://lichess.org/training/ScDHz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sCdL1', 'Rapid', 'chek-one', 1681, 'hermit23', 1696, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bc4,e6,Bf4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,Be5,O-O,Qf3,Ne4,Bxg7,Kxg7,Qd3,Rab8,b4,Qb5,Qd4+,Kg8,Nd2,Nxd2,Qxd2,Qc4,Rfc1,Rbc8,Qd4,Qxd4,cxd4,Rxc1+,Rxc1,Rb8,a3,Rb5,Rc7,a5,g3,axb4,axb4,Rxb4,Rc8+,Kg7,Kg2,Rxd4,Kf3,e5,Ke3,f5,Re8,f4+,gxf4,Rxf4,Rxe5,Rh4,Rxd5,Rxh2,f4,Kf6,Rd6+,Kf5,Kf3,Rh3+,Kg2,Rh4,Rd4,h5,Kg3,Rg4+,Kf3,h4', 'Rd5+,Ke6,Re5+,Kd7,Kxg4', 'https://lichess.org/training/sCdL1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ScfBk', 'Classical', 'alcivarluis', 2250, 'andres_zi', 1624, 'Nf3,Nf6,c4,e6,Nc3,b6,g3,Bb7,Bg2,c5,O-O,Be7,d3,O-O,b3,d5,cxd5,exd5,d4,Nbd7,Bb2,Re8,Rc1,Bf8,Re1,Rc8,h3,h6,e3,c4,Nd2,cxb3,Qxb3,Nb8,a4,Qd7,Nf3,Nc6,Ne5,Nxe5,dxe5,Rxe5,Nb5,Rxc1,Rxc1,Rh5,Rc7,Qf5,Rxb7,Qb1+,Bf1,Rxh3,Kg2,Rh1,Qd3,Rxf1,Qxf1,Qxb2,Rxa7,Bc5,Ra8+,Kh7,Qd3+', 'Ne4,Qf1,Bxe3', 'https://lichess.org/training/ScfBk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sCFOc', 'Rapid', 'kc228', 1818, 'wersym', 1892, 'e4,g6,Nf3,Bg7,d4,d6,c3,Nf6,Bd3,O-O,h4,Bg4,Nbd2,Nbd7,Qc2,c5,Nh2,Bh5,f3,g5,hxg5,Ne8,g4,Bg6,f4,f6,f5,cxd4,Nhf3,dxc3,bxc3,Qb6,Nc4,Qc5,Ba3,Qc6,Nd4,Qa6,Ne6,Bf7,g6,Bxe6,fxe6,Nc5,gxh7+,Kh8,Ne5,Nxd3+,Qxd3', 'fxe5,Qxa6,bxa6', 'https://lichess.org/training/sCFOc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sCgte', 'Rapid', 'tijocoarriba', 1705, 'vl62', 1740, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,c5,a3,Nf6,d3,Be7,h3,Nc6,Nf3,h6,Bf4,O-O,Qd2,Re8,O-O,b5,c3,a5,d4,b4,axb4,cxb4,c4,Ba6,Re1,dxc4,Ba4,Bb7,Ne5,Qd5,Bxh6,Nxe5,f3,Nxf3+,gxf3,Qxf3,Rf1,Qh1+,Kf2,Qh2+,Ke1,Bd6+,Kd1,Qxd2+,Nxd2,Ne4,Nxc4,Rec8,Nb6,Ng3,Rg1,Bf3+,Kd2,Re8,Be3,Rab8,Bxe8,Rxb6,Rxa5,b3,Ra7', 'Bb4+,Kc1,Ne2+', 'https://lichess.org/training/sCgte');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('scgxp', 'Classical', 'freddy267t', 1668, 'Boomer34', 1683, 'e4,c5,Nf3,Nc6,d3,e6,g3,d5,Nbd2,Nf6,Bg2,Ng4,O-O,d4,h3,Nge5,Nxe5,Nxe5,f4,Nc6,Nf3,f6,e5,f5,Nd2,Bd7,Nc4,b5,Nd6+,Bxd6,exd6,Qb8,Qh5+,g6,Qg5,Qxd6,Re1,Qe7,Qh6,O-O-O,Bd2,Qf8,Qxf8,Rdxf8,Bxc6,Bxc6,Rxe6,Kd7,Rae1,Re8,R6e5,Rxe5,fxe5,Ke6,Kf2,Bd5,a3,h5,c3,h4,Bg5,hxg3+,Kxg3,Rh5,h4,Bb3,cxd4,cxd4,Rc1,Rh7,Rc6+,Kxe5,Rxg6,Bc2', 'Bf4+,Kd5,Rd6+,Kc5,b4#', 'https://lichess.org/training/scgxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('scIPW', 'Rapid', 'lovalovac1', 1936, 'danrad', 1995, 'e4,e5,f4,d5,Qf3,dxe4,Qxe4,Qd4,Qxe5+,Qxe5+,fxe5,Nd7,Nf3,c5,Bc4,Rb8,e6,fxe6,Bxe6,Ngf6,O-O,h6,Nc3,b5,d3,Rb6,Bxd7+,Bxd7,Ne5,Bd6,Ng6,Rg8,Bd2,b4,Ne2,Ng4,h3,Bc7,Ngf4,Nf6,Rae1,Kd8,c4,g5,Nd5,Nxd5,cxd5,g4,hxg4,Bxg4,Bf4,Bxe2,Bxc7+,Kxc7,Rxe2,Kd6,Rf5,Rg6,Re8,Ra6,a3,bxa3,bxa3,Rxa3,Rd8+,Kc7,Ra8,Kb6,Rf3,c4,Rb8+,Kc7,Ra8,Kb7,Rff8,Rxd3,Rfb8+,Kc7,Rc8+,Kd6', 'Rc6+,Kxd5,Rxg6', 'https://lichess.org/training/scIPW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sCixG', 'Blitz', 'Bjarnsteinn', 1847, 'Tp379', 1838, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,Bb5,Bd7,O-O,Nf6,Rb1,O-O,f3,a6,Nxc6,bxc6,Be2,Qa5,a3,Rab8,Bd2,Ne8,Nd5,Qc5+,Be3,Qa5,Nxe7+,Kh8,Bd4,Bxd4+,Qxd4+,Qe5,Qxe5+,dxe5,Bxa6,Nc7,Rfd1,Be6,Nxc6,Nxa6,Nxb8,Nxb8,b3,Nc6,c4,Nd4,Rd3,Rb8,Kf2,Bxc4,Rc3,Bxb3,Rb2,Kg7,Ke3,f5,exf5,Nxf5+,Ke4,Rd8,Rcxb3,Rd4+,Kxe5,Rh4,g3,Rc4,Rb7+,Kh6,g4,Ne3,h3,Ra4,f4,Nc4+,Ke6,Nxb2', 'g5+,Kh5,Rxh7#', 'https://lichess.org/training/sCixG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ScjHM', 'Blitz', 'zm_berserker', 1716, 'claudioxd', 1778, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,d5,e5,Nd7,O-O,O-O,Qh5,g6,Qe2,Re8,Bf4,Bxc3,bxc3,Nxe5,Bxe5,f6,Bxc7,Qd7,Qf3,Qxc7,Qxf6,c5,c4,d4,Rfe1,Bb7,Qg5,Rac8,a4,Rf8,a5,a6,Rab1,Qf7,Rf1,Rc7,Rb6,Re7,Bxg6', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/ScjHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('scjl5', 'Blitz', 'cthutq75', 1864, 'EminZarbiev', 1825, 'e4,b6,Nf3,Bb7,Nc3,e6,e5,d6,exd6,Bxd6,d4,Nf6,Be2,h6,O-O,Nbd7,Be3,a6,Qd2,Ng4,Rae1,Bxf3,Bxf3,Bxh2+,Kh1,Qh4,Bxg4,g5,Bh3,Bd6,Ne2,g4,Bf4,gxh3,g3,Qg4,Bxd6', 'Qf3+,Kg1,Qg2#', 'https://lichess.org/training/scjl5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ScJpO', 'Rapid', 'jfl', 1737, 'ALKUDIES', 1698, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Qe7,Nc3,Qb4,Qd5,Nh6,Bb3,c6,Qe5+,Qe7,Qd4,c5,Qc4,d6,Nf3,Be6,Nd5,Qd7,Ba4,Nc6,O-O,Be7,Bxg7,Rg8,Bxh6,Bh3,Bg5,Bxg5', 'Nxg5,Rxg5,Nf6+,Ke7,Nxd7', 'https://lichess.org/training/ScJpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('scjXF', 'Rapid', 'Azizhas', 1723, 'MorphyAgain', 1861, 'd4,Nf6,c4,g6,Bf4,Bg7,e3,d6,Bg3,h6,h3,Ne4,Bh2,e6,Nf3,c6,Bd3,d5,cxd5,exd5,O-O,Bf5,Nc3,Nd7,Bc2,O-O,Nd2,Qg5,Bf4,Qe7,Ndxe4,dxe4,f3,exf3,Rxf3,Be6,Qd2,Nf6,Re1,Nd5,e4,Nxf4,Qxf4,Bxd4+,Kh1,g5,Qd2,Rad8,Qe2,Bxc3,bxc3,Bxa2,e5,Bd5,Rf6,Kg7,Qh5,Rh8,Rg6+,fxg6', 'Qxg6+,Kf8,Rf1+', 'https://lichess.org/training/scjXF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sCn82', 'Rapid', 'COLONIA1680', 1973, 'MrkiMedo', 1952, 'e4,e5,Nf3,Nc6,Bb5,f6,O-O,Bc5,Nh4,d6,Qh5+,Kf8,Ng6+,hxg6,Qxh8,Nd4,Bc4,Be6,Bxe6,Nxe6,c3,Ng5,d3,Nf7,Qh7,Ne7,Qh3,a6,Nd2,b5,b4,Bb6,Kh1,Kg8,f4,d5,fxe5,Nxe5,exd5,Qxd5,Ne4,Qxd3,Qe6+,Kh7,Qxe7', 'Qxf1#', 'https://lichess.org/training/sCn82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sco9N', 'Rapid', 'alcarax', 2067, 'majid141', 1925, 'b3,d5,Bb2,c5,e3,Nc6,Bb5,Bd7,Nf3,a6,Bxc6,bxc6,O-O,f6,Nc3,e5,d3,Bg4,h3,Bh5,g4,Bf7,g5,h6,gxf6,gxf6,Kh1,Bh5,e4,dxe4,Nxe4,Qd7,Kh2,Qf5,Ng3,Qf4,Kg2,Bxf3+,Qxf3,Qxf3+,Kxf3,Ne7,Ba3,Nd5,Nf5,Rg8,Rg1,Kf7,Rxg8,Kxg8,Rg1+,Kf7,h4,Nf4,h5,Nh3,Rg6,Nf4,Nxh6+', 'Bxh6,Rxh6,Kg7,Rg6+,Nxg6', 'https://lichess.org/training/sco9N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('scOtB', 'Rapid', 'Langolier679', 1712, 'cowboy333', 1609, 'd4,d5,Nf3,Bg4,e3,e6,Be2,Be7,h3,Bh5,c4,Nf6,c5,c6,Qb3,b6,cxb6,Qxb6,Nbd2,Nbd7,Qd3,O-O,b3,a5,Bb2,Bg6,Qc3,Bb4,Qc1,Rac8,O-O,Ne4,Nxe4,Bxe4,Ng5,Nf6,Nxe4,Nxe4,Rd1,Qd8,f3,Ng3,Bd3,Qf6,Ba3,c5,dxc5,Rxc5,Qb1,Nf5,Bxb4,axb4,Bxf5,exf5,Qd3,Qe6,Re1,Re8,Qd4,Rc3,Qxb4,Rxe3,Rxe3,Qxe3+,Kh2', 'Qe5+,f4,Qxa1', 'https://lichess.org/training/scOtB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('scRmQ', 'Rapid', 'Jarbelou', 1754, 'ProstoChudnoy', 1775, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Nc6,O-O,e5,d3,Bc5,Re1,Qd6,Nc3,Nf6,Bg5,d4,Bxf6,Qxf6,Ne4,Qe7,Nxc5,Qxc5,c3,dxc3,bxc3,Qxc3,Rc1,Qa5', 'Rxc6,bxc6,Rxe5+,Qxe5,Nxe5', 'https://lichess.org/training/scRmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ScrOb', 'Blitz', 'Hamppe-Allgaier', 2132, 'Andrei1966', 2224, 'e4,e5,Nc3,Nc6,f4,exf4,Nf3,g5,h4,g4,Ng5,h6,Nxf7,Kxf7,d4,d6,Bxf4,Nf6,Bc4+,Kg7,O-O,Nh5,Be3,Qxh4,Rf7+,Kg6,Qd3,Nb4,Qf1,g3', 'Qf5+,Bxf5,exf5#', 'https://lichess.org/training/ScrOb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SCRsf', 'Rapid', 'Uglyworthlesstrash69', 1805, 'Aguedo_Escano', 1787, 'e4,c5,d3,Nc6,Be2,Nf6,Nf3,e5,O-O,d6,Bg5,h6,Bh4,Be7,Nc3,a6,Nd5,Nxd5,exd5,Nd4,Bxe7,Qxe7,Nxd4,cxd4,Re1,O-O,c3,dxc3,bxc3,b5,Bf3,Bb7,d4,Qg5,dxe5,dxe5,Qe2,Rae8,c4,bxc4,Qxc4,Rb8,Rab1,Rfc8,Qg4,Qf6,h3,Ba8,g3,Qd6,Qf5,Rxb1', 'Qxc8+,Qf8,Qxf8+,Kxf8,Rxb1', 'https://lichess.org/training/SCRsf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ScS2b', 'Rapid', 'manuelV', 1653, 'genesis19', 1827, 'e4,c5,Bc4,Nc6,Nc3,e6,Nf3,Nf6,d4,cxd4,Nxd4,Nxd4,Qxd4,b6,O-O,Bc5,Qd1,O-O,Bg5,Be7,e5,Ne8,Bxe7,Qxe7,Qf3,Rb8,Qg3,Bb7,f4,f6,Bd3,f5,Rad1,Kh8,Bb5,Rd8,Rd3,Rg8,Qf2,Nc7,Ba4,Ba6,Rh3,Bxf1,Kxf1,Na6,Qe2,Nc5', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/ScS2b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SCuWR', 'Blitz', 'WalterMax2020', 2079, 'Mayunasaka', 2108, 'e4,d5,exd5,Qxd5,Nf3,Nf6,d4,e6,c4,Qa5+,Nc3,Bb4,Bd2,O-O,Bd3,c5,dxc5,Qxc5,O-O,Nc6,Qe2,Rd8,a3,Ba5,b4,Qd6,Bc2,Bc7,Rfd1', 'Nd4,Qd3,Nxf3+,Qxf3,Qxh2+', 'https://lichess.org/training/SCuWR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sCVFc', 'Blitz', 'George_1994', 2264, 'IM DeandraChess', 2251, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,Ngf3,Nc6,Nb3,f6,Be2,cxd4,Nbxd4,Nc5,exf6,Qxf6,c3,Bd6,O-O,O-O,Nxc6,bxc6,Nd4,Ne4,Nxc6,Bc5+,Nd4,a5,Be3,e5,fxe5,Qxe5,Rxf8+,Kxf8,Kh1,Kg8,Nf3', 'Bxe3,Nxe5,Nf2+,Kg1,Nxd1+', 'https://lichess.org/training/sCVFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ScWEP', 'Blitz', 'Adalbert57', 1759, 'NimaMacheavelli', 1750, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,d3,d6,a4,Bg4,c3,O-O,b4,a5,b5,Na7,Nbd2,c6,Re1,cxb5,axb5,Qb6,Nf1,Qc5,Ba3,Qc7,Ng3,Bd7,Rb1,b6,Nh4,Nxe4,Rxe4,Kh8,Nhf5,Bxf5,Nxf5,Rfe8,Bxf7,Rf8,Be6,Rxf5,Bxf5,Rf8,Qg4,Qxc3,Qh3,h6,Bc1,Qc2,Ra1', 'Qd1+,Re1,Qxe1#', 'https://lichess.org/training/ScWEP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('scxZu', 'Blitz', 'Ankurap77', 1829, 'blackout00', 1913, 'e4,g6,Nf3,Bg7,d4,d6,Nc3,c6,Bg5,h6,Bf4,Nf6,Bd3,O-O,Qd2,h5,h3,Nbd7,O-O-O,Qb6,Bh6,e5,dxe5,dxe5,Bxg7,Kxg7,g4,h4,Nxh4,Nc5,Nf5+,Bxf5,gxf5,Rad8,Qg5,Nxd3+,cxd3,c5,Rhg1,Nd7,h4,c4,dxc4,Nc5,Nd5,Qa6,f6+,Kh7,h5,Qxc4+,Kb1,Qxe4+,Ka1,Rxd5,hxg6+,fxg6,Rh1+,Kg8,Rh8+,Kxh8', 'Qh6+,Kg8,Qg7#', 'https://lichess.org/training/scxZu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SCYqw', 'Rapid', 'Blackfox2812', 1528, 'MartijnM', 1514, 'e4,c6,c4,e6,Nc3,d5,f3,Nf6,cxd5,cxd5,e5,Nfd7,d4,Be7,Bb5,O-O,Nge2,f6,f4,fxe5,fxe5,Bh4+,g3,Be7,h4,Nc6,Nf4,Nb6,Qg4,Nxd4,Nh5,g6,Bh6,Rf7,Bd3,Nf3+,Ke2,Nxe5,Qd4,Bf6,Nxf6+,Qxf6,Raf1,Nf3', 'Qxf6,Rxf6,Rxf3,Rxf3,Kxf3', 'https://lichess.org/training/SCYqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('scYZI', 'Rapid', 'maco', 1695, 'Ahmad94', 1648, 'e4,d5,exd5,c6,dxc6,Nxc6,Nf3,Nf6,Be2,e6,d3,b6,O-O,Bb7,Nc3,a6,a3,Qc7,Ne4,Bd6,Nxd6+,Qxd6,Be3,Qc7,Nd4,h6,Nxc6,Bxc6,Bf3,Nd5,Bxd5,Bxd5,Bd4,Bb7,Qe2,O-O-O,Bc3,Qc6,f3,Rhg8,Qe5,g5,Rae1,g4,Qe3,gxf3,Rxf3', 'Qxf3,Qxf3,Bxf3', 'https://lichess.org/training/scYZI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sD0dm', 'Classical', 'CoolCalc', 1656, 'Touman12', 1686, 'd4,Nf6,c4,c5,e3,e6,Nc3,cxd4,exd4,d5,a3,Nc6,Nf3,Be7,Be2,dxc4,Bxc4,O-O,O-O,b6,Bg5,Bb7,Bxf6,Bxf6,d5,Na5,Ba2,exd5,Bxd5,Bxd5,Nxd5,Bxb2,Ra2,Bf6,Nxf6+,Qxf6,Re1,Rfe8,Rae2,Rxe2,Qxe2,h6,h3,Rc8,Qd3,Nc4,Qd7,Qc6', 'Re8+,Rxe8,Qxc6', 'https://lichess.org/training/sD0dm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sd0eV', 'Rapid', 'Tomcsi', 1788, 'sibelkacem', 1824, 'e4,e5,Bc4,Nf6,d4,Nxe4,dxe5,d5,Bxd5,Bf5,Bxf7+,Ke7,Qf3,g6,Bb3,Bg7,Bf4,Nc6,Nc3,Nxe5,Qe3,Ng4,Bg5+,Bf6,Bxf6+,Kxf6,Nxe4+,Bxe4,Qxe4', 'Re8,Qxe8,Qxe8+', 'https://lichess.org/training/sd0eV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SD1xE', 'Rapid', 'hubertwojczi', 1818, 'Bessert', 1798, 'e4,Nc6,Nf3,e5,Bc4,h6,O-O,Bc5,Nc3,Nf6,d3,O-O,Be3,d6,Qd2,Bg4,Nh4,Be6,Bxe6,fxe6,Bxh6,Nh5,Bg5,Qe8,Qe2,Nf6,Bxf6,Rxf6,Qg4,Rh6,Ne2,Qf7,c3,Rf8,b4', 'Bxf2+,Kh1,Rxh4', 'https://lichess.org/training/SD1xE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sD85B', 'Rapid', 'Nazhdak', 1789, 'Hauser878', 1763, 'd4,d5,Nf3,Nf6,c4,c6,cxd5,cxd5,Nc3,Nc6,Bg5,Bg4,Bxf6,exf6,e3,Bb4,Be2,Qa5,Qc2,O-O,O-O,Rac8,Qb3,Bxc3,bxc3,Rc7,Rfc1,Rfc8,c4,dxc4,Rxc4,Bxf3,Bxf3,Nxd4,Rxd4,Rc1+,Rxc1', 'Rxc1+,Rd1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/sD85B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sd8Uw', 'Rapid', 'givi1', 1624, 'OgiDanie', 1749, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Bd6,a3,Ne7,Nc3,O-O,O-O,f5,exf5,Bxf5,d3,h6,Re1,Ng6,Ne4,Nh4,Nxh4,Qxh4,Ng3,e4,dxe4,Bxg3,fxg3,Qxg3,exf5,Rad8,Qe2,Rfe8,Qc4+,Kh7,Rxe8,Rd1+,Qf1,Rxf1+,Kxf1,Qd6,Be3,Qd7,Re6,Qd5,g4,Qh1+,Bg1,Qxh3+,Ke1,Qxg4,Kd2,Qxf5,Re2,Qd5+,Ke3,Qe5+,Kd2,Qxb2,Rae1,Qxa3,Re7,Qb4+,Kc1,Qf4+,Be3,Qh4,Bd2,a5,Bxa5,Qg3,Bxc7,Qa3+,Kd2,b5,Bb6,b4,Bc5,Qa5,R1e5', 'b3+,Kd3,b2', 'https://lichess.org/training/sd8Uw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sd9pg', 'Blitz', 'GM Protagonist98', 2598, 'Marat72', 2425, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,Bg4,g3,Nc6,Bf4,Qb4,Bg2,O-O-O,h3,e5,hxg4,exf4,O-O,fxg3,fxg3,Nxg4,Bh3,f5,Bxg4,fxg4,Ng5,Nxd4,Qxg4+,Kb8,Nf7,h5,Qe4,Bc5,Nxh8,Rxh8,Kg2,Qxb2,Na4,Qa3,Rab1,b6,Nxc5,Qxc5,Rf2,g6,Rd1,Nf5,Rd3,h4,g4,h3+,Kf1,h2,Rxh2,Rxh2', 'Rd8#', 'https://lichess.org/training/Sd9pg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SD9Pu', 'Rapid', 'Bhatia79', 1670, 'Serbulo187', 1692, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,d6,e3,Nbd7,Bd3,O-O,a3,Re8,h3,e5,dxe5,Nxe5,Nf3,Nxd3+,Qxd3,Bf5,e4,Bxe4,Nxe4,Nxe4,O-O,Bxb2,Rab1,Qf6,Rfe1,Nc5,Rxe8+,Rxe8,Qc2,Bxa3,Bg5,Qf5,Qc3,Qxb1+,Kh2,Qb2,Qa5,Ne4,Qxc7,Nxg5,Nxg5,Re2', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/SD9Pu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDAX7', 'Rapid', 'feyz123', 1785, 'nutsh311', 1793, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,Nc6,h3,Bd6,Bxd6,Qxd6,c3,h6,Nbd2,Bd7,c4,O-O-O,c5,Qe7,Bb5,Kb8,O-O,Nxd4,Bxd7,Nxf3+,Nxf3,Qxd7,Ne5,Qe7,c6,b6,Qa4,a5,Qb5,Ka7,a3,Ra8,b4,Kb8,bxa5,Rxa5,Qb3,Kc8,Rfc1,Kd8,Rd1,Ke8,Rd4,Ne4,Ra4,Qf6,f4,Qh4', 'Rxa5,bxa5,Qb8+,Qd8,Qxd8+,Kxd8,Nxf7+,Ke8,Nxh8', 'https://lichess.org/training/sDAX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SdBFm', 'Rapid', 'evgeni26', 1635, 'wargass', 1642, 'e4,e6,Qf3,d5,e5,c5,d3,Nc6,c3,Nxe5,Qg3,Nc6,Be2,Nf6,Nf3,h6,Ne5,Nxe5,Qxe5,Nd7,Qg3,Nf6,h3,Qb6,b3,d4,c4,Bd6', 'Qxg7,Rg8,Qxf6', 'https://lichess.org/training/SdBFm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SDbXd', 'Rapid', 'SADRA1347', 1768, 'jdawg22', 1772, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,h6,Nf3,Bd6,c3,c5,d4,cxd4,cxd4,Qc7,dxe5,Bxe5,Nxe5,Qxe5,O-O,Bb7,Bb5+,Qxb5,Re1+,Kf8,Nc3,Qc6,f3,g6,Qd4,Kg8,b3,Nd5,Nxd5,Qxd5,Qf6,Qf5,Qc3,Rc8,Qd2,Rc2,Re8+,Kh7', 'Qxh6#', 'https://lichess.org/training/SDbXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SddA8', 'Rapid', 'ivanphilipov', 1965, 'masKA2008', 1987, 'e4,c6,f4,d5,e5,g6,d4,Bg7,Nf3,Bg4,h3,Bxf3,Qxf3,Qa5+,Bd2,Qb6,Bc3,e6,Nd2,Ne7,Nb3,O-O,Ba5,Nf5,Bxb6,axb6,g4,Ne7,Bd3,Nd7,Rg1,c5,f5,c4,f6,Nc6,fxg7,Kxg7,Nd2,cxd3,cxd3,Nxd4,Qd1,Nxe5,Rc1,Nxd3+,Kf1,Nxc1,Qxc1,f5,Qc7+,Kg8,Qxb6,fxg4+,Kg2,gxh3+,Kxh3,e5,Qxb7,Rad8,Rg3,Ne2,Rg4,Nf4+,Kh2,Nd3,Rg2,Nf4,Rf2,e4,Qc7,Rc8,Qe5,Rce8,Qg5,Rf5,Qh6', 'Rh5+,Qxh5,Nxh5', 'https://lichess.org/training/SddA8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sdDj9', 'Rapid', 'misimi93', 1715, 'captoprill', 2134, 'e4,c5,Nf3,g6,Bc4,Bg7,c3,Nc6,d3,e6,a3,Nf6,h3,O-O,Bg5,d5,exd5,exd5,Ba2,Re8+,Kf1,h6,Bh4,g5,Bg3,Bf5,Kg1,d4,cxd4,Nxd4,Nc3,Be6,Kh2,Bxa2,Rxa2,Nh5,Nxd4,Nxg3,fxg3,Qxd4,Ra1,Re3,Qb3,Rxg3,Qxb7,Rxh3+,gxh3', 'Qf2+,Qg2,Be5#', 'https://lichess.org/training/sdDj9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SDdlc', 'Rapid', 'matgever', 1977, 'momo_klaus', 1986, 'e4,e5,Nf3,Nc6,Bb5,f5,d3,fxe4,dxe4,Nf6,O-O,d6,Nc3,Be7,Re1,O-O,h3,h6,Bc4+,Kh8,a3,Qe8,Be3,Qg6,Nh4,Qh7,Qd3,Nxe4,Qxe4,Qxe4,Nxe4,Bxh4,Rad1,Bf5,Nc3,Bxc2,Rd2,Bg6,Nd5,Rac8,b4,Bf7,g3,Bxd5,Bxd5,Be7,Bxc6,bxc6,Rc2,c5,bxc5,dxc5,Bxc5,Bxc5,Rxc5,Rfe8,Re4,Kg8,Ra4,e4,Kf1,e3,Rxa7,e2+,Ke1,Rcd8,Rc1,Re7,Ra4,Kf7,Rf4+,Kg6,Rf3,Rde8,Rc2,h5,Rcc3,Kg5,Rfe3,Rxe3,Rxe3,Ra8,Kxe2,h4,g4,Kf4,Rb3,c5,Rc3,Ra5,Rc4+,Ke5,a4,g5,Kd3,Kd5,f4,gxf4,Rxf4,Ra8,Rf5+,Kd6,Rf4,Rb8,Ke4,Rb4+,Kf5,Rb3,g5,Rxh3,g6,Ke7,g7,Rg3,Rxh4,Rxg7,Rc4,Kd6,a5,Kd5,Ra4,c4,a6,Ra7,Ra5+', 'Kd4,Ra4,Kd3,Ke5,c3', 'https://lichess.org/training/SDdlc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SDDoI', 'Rapid', 'NotARobot2016', 1934, 'ruben11131', 1808, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Qe2,b5,Bb3,Be7,c3,O-O,O-O,d6,d4,Bg4,d5,Na5,Bc2,c5,Nbd2,Rc8,b3,Qb6,h3,Bh5,Qe3,Qb7,Re1,Nxd5,exd5,Qxd5,Be4,Qe6,Nf1,f5,Bc2,Bxf3,Qxf3,e4,Qe2,d5,Bf4,g5,Bh2,f4,Qg4,Qxg4,hxg4,Bf6,Red1,Bxc3,Rab1,Rcd8,Nd2,e3,fxe3,fxe3,Nf3,Rxf3,gxf3,e2,Rdc1,d4,Bg3,c4,Be4,d3,Rxc3,d2,Bc2,Re8,bxc4,Nxc4,Bb3,e1=Q+,Bxe1', 'Rxe1+,Kf2,Rxb1', 'https://lichess.org/training/SDDoI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sddSc', 'Rapid', 'hadaf2800', 2046, 'Nikks93Zoo', 2280, 'e4,e5,f4,d6,Nc3,exf4,Nf3,Be6,d4,Nc6,d5,Qf6,dxe6,fxe6,Bb5,Ne7,O-O,O-O-O,Qe2,g5,e5,Nxe5,Nxe5,dxe5,Ne4,Qg6,Nc5,Rd5,b4,Nf5,Bc4,Rxc5,bxc5,Bxc5+,Kh1,Ng3+,hxg3', 'Qh6+,Qh5,Qxh5#', 'https://lichess.org/training/sddSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SDdWR', 'Rapid', 'OhneBart', 1714, 'willybilly', 1625, 'e4,e5,Nc3,Bc5,Nf3,Nc6,Nxe5,Nxe5,d4,Bxd4,Qxd4,f6,Bg5,h6,Bd2,d6,f4,Nc6,Qe3,Qe7,O-O-O,Bg4,Be2,Bxe2,Qxe2,O-O-O,Nd5,Qe6,g4,Re8,Rhe1,Nge7,Nxe7+,Rxe7,Bc3,Qxa2,Kd2,Rhe8,Ra1,Qe6,e5,Qd5+,Kc1,dxe5,f5,Nd4,Qf2,Nf3,Rd1,Qc6,Qxa7,b6,Bb4,Rd7,Qa6+,Kd8', 'Qa8+,Qxa8,Rxa8#', 'https://lichess.org/training/SDdWR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDfAJ', 'Rapid', 'Maraimalai', 2184, 'paprika58', 2306, 'd4,e6,c4,Nf6,Nf3,b6,g3,Ba6,b3,Bb4+,Bd2,Be7,Bg2,O-O,Ne5,c6,O-O,Bb7,Nc3,d6,Nd3,Nbd7,e4,e5,d5,Nc5,Nxc5,bxc5,dxc6,Bxc6,a4,h6,Nb5,a6,Nc3,Rb8,Rb1,Ne8,Nd5,Bxd5,cxd5,Bg5,f4,exf4,gxf4,Bf6,Qe1,Bd4+,Be3,Bxe3+,Qxe3,Nf6,e5,Re8,e6,Rb4,f5,Ng4,Qg3,Qg5,h3,Ne5,Qxg5,hxg5,Rfe1,f6,Re4,Reb8,Rxb4,Rxb4,Bf1,a5,Bb5,Kf8,Be2,Ke7,Kf2,Rf4+,Ke3,Rxf5,b4,cxb4,Rc1,Rf4', 'Rc7+,Kd8,e7+,Kxc7,e8=Q', 'https://lichess.org/training/sDfAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SdgPf', 'Classical', 'dr-tomasz', 1697, 'Mellemaster', 1908, 'd4,Nf6,Bf4,b6,Nf3,Bb7,Nc3,g6,Nb5,d6,e3,a6,Nc3,Bg7,Bd3,Nbd7,h4,O-O,Qd2,e6,h5,Nxh5,Rxh5,gxh5,O-O-O,e5,dxe5,dxe5,Bg5,Qe8,Ne4,Kh8,Rh1,f5,Ng3,e4,Rxh5,exd3,Qxd3,Bxf3,gxf3,Ne5,Qd1,Qg6,Bf4,Rad8,Qe2,Rd7,Rg5,Qe8,Nxf5,h6,Nxh6,Bxh6,Rxe5,Re7', 'Rxe7,Qxe7,Bxh6', 'https://lichess.org/training/SdgPf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SDhj6', 'Rapid', 'Arlan03', 2150, 'Korons20', 2191, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Nf3,g6,Bg5,Be6,c5,Bg7,Bb5,O-O,Bxc6,bxc6,Qa4,Qc7,O-O,Ne4,Rae1,Bf5,h3,Nxg5,Nxg5,Bd3,Ne2,h6,Nf3,Rfe8,Qd1,Bc4,b3,Bb5,a4,Ba6,g3,e5,Kg2,exd4,Rg1,Re4,Nexd4,Bxd4,Nxd4,Rae8,Rxe4,Rxe4,Re1,Qe7,Rxe4,Qxe4+,f3,Qe8,Qd2,Kg7,g4,Bb7,b4,a6,Qf4,Qd7,Kg3,Kg8,Qxh6,Qe7,Qf4,Kg7,h4,Qe1+,Kg2,Qe7,Kh3,Qd7,Qe5+,Kg8,f4,Bc8,f5,Kh7,fxg6+,fxg6,Qf4,Kg7,Kg3,Kh7,Nf3,Kg7,Ne5,Qe6,Qd4,Kh7,Nf3,Kg8,Ng5,Qe1+,Qf2,Qxf2+,Kxf2,Bxg4,Ke3,Kg7,Kf4,Bd1,a5,Kf6,Nh3,Bc2,Nf2,Bf5,Nd1,Bc2,Ne3,Bd3,Ng4+,Ke6', 'Ne5,Bb5,Nxg6', 'https://lichess.org/training/SDhj6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sdi0i', 'Classical', 'olonkho', 2004, 'Pantaneiro', 1788, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Bd6,h3,O-O,O-O,Be6,Nc3,c6,Re1,Qc8,Ng5,Bd7,g4,h6,Nf3,Bxg4,hxg4,Qxg4+,Kh1,Qh3+,Kg1,Ng4,Bf1', 'Bh2+,Kh1,Nxf2#', 'https://lichess.org/training/Sdi0i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SDigt', 'Rapid', 'UN-dodo', 1697, 'YashSarode1', 1685, 'e4,e5,Nc3,Nc6,Bc4,Nf6,f4,d6,d3,Be7,Nf3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Nd4,Qf2,c6,fxe5,dxe5,Nd1,Bc5,Ne3,b5,Bb3,Nxb3,axb3,Re8,c3,Qxd3,b4,Bb6,Ra6,Nxe4,Qxf7+,Kh8,Kh2,Bxe3,Bxe3,Qxe3,Rf3,Ng5', 'Qxe8+,Rxe8,Rxe3', 'https://lichess.org/training/SDigt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SDiOY', 'Rapid', 'zeljko-zuvela-grizun', 2107, 'atakanakkaya35', 2064, 'd4,d5,c4,c6,Nf3,Nf6,Bg5,dxc4,Nc3,Nd5,e4,Nxc3,bxc3,b5,a4,Bb7,Ne5,g6,axb5,cxb5,Bxc4,bxc4,Qa4+,Nd7,Qxc4,Nxe5,dxe5,Rc8,Qa4+,Qd7,O-O,Qxa4,Rxa4,Bg7,Rxa7,Bxe4,Rxe7+,Kf8,Bf6,Bxf6,exf6,Bf5,Ra1,Be6,Ra3,h5,h4,Re8', 'Rxe8+,Kxe8,Ra8+,Kd7,Rxh8', 'https://lichess.org/training/SDiOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDkeX', 'Rapid', 'SerYucel', 1724, 'yannjunghee', 1665, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,e3,O-O,Be2,Nbd7,O-O,e5,dxe5,dxe5,Qc2,a5,Rd1,Qe7,Bd2,Nc5,e4,b6,Be3,Bb7,Nd2,Ne6,Nf3,Nf4,Bf1,Rad8,g3,Rxd1,Rxd1,Ne6,Nxe5,Nxe4,Nxe4,Bxe5,Bg2,Rd8,Rxd8+,Qxd8,Nf6+,Bxf6,Bxb7,Nd4,Qd2,Nf3+', 'Bxf3,Qxd2,Bxd2', 'https://lichess.org/training/sDkeX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDLzC', 'Blitz', 'Craftmaster', 1970, 'fabioenrrique18', 1946, 'e4,e5,Nf3,Nc6,Nc3,g6,Be2,Bg7,O-O,Nge7,d3,d6,Be3,O-O,Qd2,f5,exf5,gxf5,Bh6,f4,Bxg7,Kxg7,d4,Bf5,dxe5,dxe5,Qxd8,Raxd8,Rfe1,Bxc2,Bb5,Rf5,Rac1,Bd3,Bxc6,Nxc6,Na4,e4,Nh4,Rh5,g3,Ne5,Nc5,Rxh4,Ne6+,Kh8,Nxd8,fxg3,hxg3', 'Nf3+,Kg2,Rh2#', 'https://lichess.org/training/sDLzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SdPDV', 'Classical', 'AdrianAfanasev', 1647, 'Velociraptor17', 1610, 'd4,d5,c4,e6,Nc3,Nf6,e3,c5,Nf3,Nc6,Bd3,Bd6,O-O,O-O,Re1,Re8,e4,dxe4,Nxe4,Nxe4,Bxe4,Nxd4,Nxd4,cxd4,Qxd4', 'Bxh2+,Kxh2,Qxd4', 'https://lichess.org/training/SdPDV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SDQJS', 'Rapid', 'EKABH', 1729, 'atialtun', 1784, 'e4,e5,Nc3,Bb4,Nf3,d6,d3,Bg4,Be2,Bxc3+,bxc3,Nc6,O-O,Nf6,Bg5,h6,Bxf6,Qxf6,d4,Bxf3,Bxf3,exd4,cxd4,Qxd4,Qe2,Ne5,Qb5+,Nc6', 'Qxb7,O-O,Qxc6', 'https://lichess.org/training/SDQJS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDqOk', 'Rapid', 'Viot', 2069, 'ek07', 1723, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Be2,Ngf6,d3,e5,Nc3,Be7,Nd5,Nxd5,exd5,Nf6,c4,O-O,Nd2,h6,Ne4,b6,Be3,a5,Qd2,Bf5,Bf3,Rb8,a4,Qc8,Bxh6,gxh6,Qxh6,Nxe4,Bxe4,Bxe4,dxe4,Rb7,Ra3,f6,Qg6+,Kh8,Rh3+,Qxh3,gxh3,Rg8,Qg4,Bd8,Kh1,Rxg4,hxg4,Rg7,h3,Kh7,f4,exf4,Rxf4,Kh6,Kg2,Kg5,Kg3,Kh6,Rf5,Kg6,Rh5,Rg8,Kf4,Be7,b3,Bd8,Kf3,Be7,Kg3,Bd8,Rf5,Be7,h4,Bd8,h5+,Kh6,Kf3,Be7,Kg3,Bd8,Kh4,Rg5,Rf4,f5,exf5,Rxf5+,Kg3,Re5,Rf7,Re3+,Kf2,Rxb3,Rd7,Bh4+,Ke2,Bg3,Rb7,Rb4,Kf3,Rb3+,Ke4,Rb4,Kf5,Rxc4', 'g5+,Kxh5,Rh7#', 'https://lichess.org/training/sDqOk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sdqPH', 'Bullet', 'sachingaurav', 1595, 'Sergey_Lashin', 1519, 'd4,Nf6,Nf3,d5,Bf4,Bg4,e3,e6,Be2,Bf5,Bd3,Be4,Bxe4,Nxe4,Nbd2,Bb4,c3,Bd6,Bxd6,Nxd6,O-O,Nd7,Re1,Nf6,Ne5,Nd7,Nxd7,Qxd7,e4,dxe4,Nxe4,Nxe4,Rxe4,O-O,Qh5,g6,Qh6,f5,Rh4,Qg7,Qxg7+,Kxg7,Rh3,Rfe8,Re3,Kf7,f4,Re7,Re5,Rd8,Rae1,Rd5,Rxd5,exd5,Rxe7+,Kxe7,Kf2,Kd6,Ke3,Kc6,Kd3,Kb5,b3,Kc6,c4,b6,h4,a5,a3,h6,g3,h5,b4,axb4,axb4,Kd6,c5+,bxc5', 'dxc5+,Kc6,Kd4,Kb5,Kxd5', 'https://lichess.org/training/sdqPH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SdrDO', 'Rapid', 'Dannyquezon', 1845, 'ZandreW77', 1845, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Nc3,Ne7,Bg5,f6,Bxf6,gxf6,Qh5+,Kf8,Qxc5,d6,Qe3,Qe8,Qh6+,Kf7,Bc4+,d5,exd5', 'Nf5+,Kd2,Nxh6', 'https://lichess.org/training/SdrDO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sdrIB', 'Rapid', 'Madhavjadhav', 1769, 'Krusssty', 1739, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Nf6,e5,Ng4,d4,d5,exd6,Bxd6,dxc5,Bxc5,Nc3,O-O,h3,Bxf2+,Rxf2,Nxf2,Kxf2,Qb6+,Kf1,Qc5,Bb3,b6,Qe2,a5,Be3,Qe7,a4,h6,Bxb6,Qf6,Qb5', 'Ba6,Kf2,Bxb5', 'https://lichess.org/training/sdrIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sdryB', 'Rapid', 'taha888', 1840, 'teampoltkiller', 2278, 'e4,g6,Nf3,Bg7,d4,c5,c3,cxd4,cxd4,Nf6,e5,Nd5,Bc4,Nb6,Bb3,O-O,O-O,d6,Nc3,Nc6,Bf4,Bg4,exd6,exd6,h3,Bxf3,Qxf3,Nxd4,Qd3,Nxb3,axb3,d5,Rfd1,d4,Nb5,Qf6,Bc7,Nd5,Bd6,Rfd8,Bc5,Nf4,Qf3,d3,Rxa7,Rxa7,Bxa7,Ne2+,Kh1,Qxf3,gxf3,Bxb2,Be3,Rd5,Nc7,Rd7,Nb5,f5,Kg2,Kf7,Rb1,d2,Rd1,Nc3,Rxd2', 'Rxd2,Bxd2,Nxb5', 'https://lichess.org/training/sdryB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDSEL', 'Rapid', 'Konfusius', 1913, 'ferrucciolari', 1831, 'd4,Nf6,Bg5,d5,Bxf6,exf6,e3,Be6,Bd3,f5,Nf3,Nd7,Nbd2,Bd6,c4,dxc4,Nxc4,Bb4+,Nfd2,Nf6', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/sDSEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sdsm3', 'Rapid', 'ent1', 1742, 'Fede1966', 1735, 'Nf3,d5,b3,Bf5,Bb2,e6,d3,h6,Nbd2,f6,g3,Bd6,Bg2,Qd7,O-O,Nc6,c4,h5,cxd5,exd5,Rc1,Nge7,a3,g5,Bxf6,g4,Bxh8,gxf3,Nxf3,O-O-O,b4,Rxh8,Nh4,Bh3,Rc2,Nf5,Nxf5,Qxf5,e4,dxe4,dxe4,Qe6,Re1,Ne5,Bxh3,Qxh3,Qxd6', 'Nf3+,Kh1,Qxh2#', 'https://lichess.org/training/Sdsm3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDsmx', 'Rapid', 'SlavkoPutar', 2180, 'SanFrancisco85', 2214, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Bb5+,Bd7,Qe2,O-O,Ne5,Re8,O-O,Bd6,Bxd7,Nbxd7,f4,cxd4,cxd4,Qb6,Bxf6,Qxd4+,Kh1,Nxf6,Nc3,Bxe5,fxe5,Rxe5,Qb5,Qh4,Qxb7,Rae8,h3,d4,Nb5,a6,Nd6,Rf8,Rac1,Nh5,Rxf7', 'Re1+,Rxe1,Qxe1+', 'https://lichess.org/training/sDsmx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sdtSo', 'Classical', 'sina3626', 1774, 'Jerochess', 1695, 'd4,d5,e3,Nf6,c4,c6,Qa4,e6,Nc3,Be7,cxd5,exd5,h3,O-O,Nf3,Bd7,Bd3,c5,Qc2,c4,Be2,Nc6,a3,a6,Ne5,Nxe5,dxe5,Ne8,Nxd5,Bg5,Bxc4,Rc8,b3,b5,Bd2,bxc4,bxc4,Be6,Qe4,Nc7,Nxc7,Qxc7,O-O,f6,exf6,Rxf6,Bb4,Qf7,f4,Rxc4,Qa8+,Rc8,Qxa6,Bxh3,Qe2,Be6,fxg5,Bc4,Qc2', 'Rxf1+,Rxf1,Qxf1+', 'https://lichess.org/training/sdtSo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sdtWf', 'Blitz', 'zafriizzat', 1639, 'ACTKarlok', 1787, 'e4,d5,Nc3,dxe4,Nxe4,Nd7,d3,Ngf6,Nxf6+,Nxf6,Nf3,Bf5,d4,e6,Be3,c6,Bd3,Bg6,Bxg6,hxg6,O-O,Bd6,Ne5,Qc7,Bf4,Nh5,Bg3,Nxg3,fxg3,Bxe5,dxe5,Qxe5,Qf3,Qc5+,Kh1,O-O-O,Qxf7', 'Rxh2+,Kxh2,Rh8#', 'https://lichess.org/training/sdtWf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SDtyX', 'Rapid', 'sleppup', 1906, 'tschrirsche', 1945, 'd4,Nf6,c4,e6,e3,d5,a3,dxc4,Bxc4,c5,Nf3,cxd4,Nxd4,Bd6,O-O,O-O,Nd2,Nbd7,N2f3,Ne5,Be2,b6,b4,Bb7,Bb2,Nxf3+,Bxf3,Bxf3,Nxf3,Rc8,Rc1,Bb8,Qb3,Qe7,Rfd1,Rfd8,Rxc8,Rxc8,Qd3,h6,Qd4,Bc7,h3', 'Rd8,Qxd8+,Bxd8', 'https://lichess.org/training/SDtyX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDu7i', 'Rapid', 'Razario', 1976, 'dadynast', 2002, 'e4,c5,f4,e6,Nf3,Nc6,Bc4,d5,exd5,exd5,Bb3,Be7,O-O,Nf6,d3,O-O,Ne5,Nd4,Be3,Nf5,Bf2,b5,a4,c4,dxc4,bxc4,Nc6,Qc7,Nxe7+,Qxe7,Re1,Qd6,Ba2,Qxf4,Nc3,d4,Ne2,Qd6,Nxd4,Nxd4,Bxd4,Ng4,Be5,Qc5+,Qd4,Qc6,Bxc4,Bb7,Re2', 'Nxe5,Bd5,Qxd5,Qxd5,Bxd5', 'https://lichess.org/training/sDu7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDubZ', 'Rapid', 'federico1987', 1690, 'thegerman1227', 1664, 'g3,d5,Bg2,e5,d3,Nf6,Nf3,Nc6,O-O,h6,c3,e4,dxe4,Nxe4,Nbd2,f5,Nxe4,fxe4,Nd4,Nxd4,Qxd4,c6,Bxh6,Qf6,Qxf6,gxf6,Bf4,Bh6,Bxh6,Rxh6,Rad1,f5,f3,Re6,h4,Kf8,Rd4,b5,Bh3,Re5,a4,c5,Rdd1,bxa4,fxe4,Bb7,Bxf5,Ke7,Bg6,Rf8,Rxf8,Kxf8,Rf1+,Kg7,Rf7+,Kxg6,Rxb7,Rxe4,Rxa7,Rxe2,Rxa4,Rxb2,Ra5,Kh5,Rxc5,Kg4,Rxd5,Kxg3,h5', 'Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/sDubZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sdUcY', 'Rapid', 'r_walker', 1915, 'Relapse3AM', 1972, 'd4,g6,Bf4,d5,e3,Bg7,Nf3,Bg4,Be2,e6,Nbd2,Nf6,c4,c6,cxd5,cxd5,Qa4+,Nc6,Bb5,Rc8,Bxc6+,bxc6,Qxa7,O-O,O-O,Nh5,Be5,f6,Bg3,Nxg3,hxg3,e5,dxe5,fxe5,e4,Bxf3,gxf3,dxe4,fxe4,Qxd2,Rad1,Qh6,Rd7,Ra8,Qb7,Rxa2', 'Qb3+,Kh8,Qxa2', 'https://lichess.org/training/sdUcY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SdUhA', 'Rapid', 'apchess31', 2383, 'jam0007r', 2301, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,e6,Nc3,Nf6,a3,Be7,d3,e5,f5,Nd4,Nxd4,cxd4,Nd5,O-O,O-O,a6,Bd2,b5,Bb3,Rb8,Qe1,Nxd5,Bxd5,Bb7,Bb3,Bg5,Rd1,Bxd2,Rxd2,Qf6,g4,Rbc8,Rg2,h6,h4,g5,Rh2,Kg7,Rf3,a5,a4,bxa4,Bxa4,d5,Rfh3,Rh8,Re2,dxe4,Rxe4,Bxe4,Qxe4,Rb8,Bb3,a4,Bxa4,Rxb2,Bb3,Rc8,Rh2,Rb1+,Kg2,Qc6,Bd5,Qf6,Bb3,Rc5,Kh3,gxh4,Rf2,Qg5,f6+,Kh8,Rf3,Qg6', 'Qxg6,fxg6,f7', 'https://lichess.org/training/SdUhA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SDuTh', 'Classical', 'JuanSnow', 1677, 'Pr_Skorobagatko', 1655, 'd4,d5,Nf3,c6,Bg5,f6,Bh4,g5,Bg3,h5,h4,g4,Nfd2,Nd7,c4,dxc4,Nxc4,Bh6,Qd3,Kf7,Qb3,Kg7,Nbd2,Nb6,e3,Nxc4,Bxc4,Qe8,O-O,b5,Bd3,e6,Rac1,Bd7,Rfe1,a5,a4,b4,Rc5,Ne7,Ne4,Nd5,Nd2,Rg8,e4,Bxd2,Re2,Bf4,exd5,Bxg3,dxc6,Bd6,cxd7,Qxd7,Rxh5,Rh8,Bb5,Qc7,Rxh8', 'Qc1+,Re1,Qxe1+', 'https://lichess.org/training/SDuTh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDVW2', 'Rapid', 'K64serega', 2120, 'abuwluncur', 2175, 'e4,e6,d4,d5,e5,c5,c3,Nc6,f4,Qb6,Nf3,Nge7,Bd3,cxd4,cxd4,Bd7,Bc2,Nb4,Ba4,Bxa4,Qxa4+,Nec6,O-O,Nd3,Nc3,a6,b3,Bb4,Ne2,O-O,a3,Nxc1,Raxc1,Bd2,Nxd2,Rac8,b4', 'Nxd4,Rxc8,Nxe2+,Kh1,Rxc8', 'https://lichess.org/training/sDVW2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sdw0b', 'Blitz', 'VanUrk', 1627, 'balthom', 1668, 'e4,c5,d3,Nc6,Nd2,g6,Ngf3,Bg7,g3,e6,Bg2,Nf6,O-O,O-O,Re1,d5,c3,dxe4,Nxe4,Nxe4,Rxe4,e5,Bg5,Qc7,Be3,b6,d4,f5,Nxe5,fxe4,Bxe4,Nxe5,Bxa8,Bh3,Bd5+,Kh8,dxe5,Rd8,c4,Qxe5,Qf3,Qxb2,Re1,Qxa2,Bg5,Rf8', 'Qxf8+,Bxf8,Bf6+,Bg7,Re8#', 'https://lichess.org/training/Sdw0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SDWgq', 'Rapid', 'BlackHammer007', 1821, 'bkaifeng', 1823, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Bc5,e5,Ng4,Ng5,Ngxe5,Re1,O-O,Bd3,h6,Ne4,Bb6,Qh5,d5,Bxh6,dxe4,Bxg7,Kxg7,Bxe4,Rh8,Qe2,Qh4,h3,Bxh3,Bxc6,Nxc6,Qf3,Bxg2,Qxg2+,Qg5,Qxg5+,Kf8,Re4,Rg8,Qxg8+,Kxg8,Nd2,f5,Rf4,Rf8,Re1,Kg7,Nc4,Bc5,a3,a5,Ne5,Nxe5,Rxe5,Bb6,Rexf5,Rxf5,Rxf5,Kg6,Re5,Kf6,f4', 'd3+,Kg2,dxc2,Re1,Be3', 'https://lichess.org/training/SDWgq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDWQY', 'Rapid', 'mohamad2017', 1884, 'Milxadrez', 1768, 'e3,e5,b3,d5,Bb2,Nc6,Bb5,Bd6,Bxc6+,bxc6,Qf3,Nf6,Qg3,O-O,Bxe5,Bxe5,Qxe5,Re8,Qg5,d4,Ne2,dxe3,fxe3,Re4,Ng3,Rg4,Qc5,Ba6,Nc3,Qe8,O-O-O,Bb5,a4,Ba6,Nce2,Rb8,h3,Rgb4,Rhf1,Nd7,Qg5,Bxe2,Nxe2,c5,Nf4,c4,Nd5,cxb3,Nxb4,Rxb4,Rf4,bxc2,Rxb4,cxd1=Q+,Kxd1,h6,Qf5,Qe7,Rb8+', 'Nxb8,Qc8+,Qf8', 'https://lichess.org/training/sDWQY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDXwT', 'Bullet', 'Kopulec', 1945, 'Tena_Lady', 1954, 'e4,d6,d4,Nd7,Nc3,e5,f4,exd4,Qxd4,Ngf6,Be2,c6,Be3,d5,O-O-O,Bc5,Qd2,Qb6,Bxc5,Nxc5,exd5,Bf5,dxc6,O-O,Nd5,Nxd5,Qxd5,Be6,Qd4,Rad8,Qc3,bxc6,Nf3,Ne4,Qe5,Nf2,Rxd8,Rxd8,Rf1,Ng4,Qc3,Ne3,Re1,Nd5,Qb3,Qf2,Bc4,Ne3,Bxe6', 'Qxe1+,Nxe1,Rd1#', 'https://lichess.org/training/sDXwT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sDyMb', 'Rapid', 'arya_more', 1627, 'Shiv1011', 1709, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Bf5,Nc3,Nc6,Nf3,Nb4,Bb3,e6,O-O,Bd6,Re1,O-O,e4,Bg6,e5,Bxe5,dxe5,Ng4,h3,Nh6,Bxh6,gxh6,Qxd8,Raxd8,a3,Nd3,Red1,Nxb2,Rxd8,Rxd8,Rf1,Nd3,Bc2,Nb2,Bxg6,hxg6,Nb5,Rd3,Nxc7,Rxa3,Nb5,Ra5,Nd6,b6,Rb1,Nd3,Nc4,Rc5,Nfd2,Nxe5,Nxe5,Rxe5,Ra1,Rd5,Nc4,Rc5,Nd2,a5,Ne4,Rb5,Kf1,Rb4,f3,a4,Nd2,b5,Ke2,Kg7,Kd3,Kf6,Kc3,Rh4,Ne4+,Ke5,Kb4,f5,g3,Rxh3,Nf2,Rxg3,Kxb5,Rxf3,Re1+,Kf6,Nd1,e5,Kxa4,e4,Kb4,g5,Kc4,Rd3,Nf2,Rd2,Rf1,g4', 'Nxe4+,Kg6,Nxd2', 'https://lichess.org/training/sDyMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sdz3G', 'Rapid', 'Pioneczkowy', 1724, 'Sergey_1950', 1713, 'e4,e6,d4,c6,c4,Be7,Nc3,h6,Nf3,a5,Bf4,d6,Bd3,g5,Bg3,h5,h3,h4,Bh2,f6,e5,dxe5,dxe5,f5,O-O,Na6,Qc2,Nc5,Rfd1,Qc7,Bxf5,exf5,e6,Qb6,Qxf5,Bxe6,Qe5,Bf6,Qe3,Ne7,Bd6,Nf5,Bxc5', 'Nxe3,Bxb6,Nxd1', 'https://lichess.org/training/Sdz3G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sdZ6s', 'Classical', 'LazarVuckovic', 1804, 'Tonybleff', 1908, 'd4,e6,Nf3,g6,e4,Bg7,Nc3,Ne7,Bg5,f6,Bh4,O-O,e5,Nf5,Bg3,Nc6,Be2,fxe5,dxe5,Nxg3,hxg3,Nxe5,Nxe5,Bxe5,Qd2,Qf6,f3,Bxg3+,Kf1,b6,Qh6,Rf7,Rd1,d5,Kg1,Bf4,Qh3,Be3+,Kh2,e5,g4,c6,Rdf1,h5,Nd1,Rh7,Nxe3,Qf4+,Kg2,Qxe3,Rf2,Qf4,Bd3,Kf7,Rg1,Be6,Kh1,e4,fxe4,Qxf2,Rf1,Qxf1+,Qxf1+,Ke7,g5,Rf8,Qg2,Rhf7,Kg1,Rf2,Qxf2,Rxf2,Kxf2,d4,b3,c5,e5,Kf7,Kg3,Kg7,Be4,Bf7,Bc6,Kf8,Bb5,Ke7,Ba6,Ke6,Kf4,Kd5', 'Bc4+,Kc6,Bxf7', 'https://lichess.org/training/sdZ6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SdzPw', 'Classical', 'Son322', 1801, 'aaj05', 1788, 'b3,d5,Bb2,Bf5,g3,c6,Bg2,Nd7,Nf3,Ngf6,O-O,g6,d3,Bg7,Nbd2,O-O,Rb1,Re8,Nh4,e6,h3,Nh5,Nhf3,Bxb2,Rxb2,Ng7,g4,Nf6,gxf5,exf5,Rb1,a5,a4,Nfh5,c4,Nf4,Re1,Nxg2,Kxg2,Nh5,e3,f4,Nf1,fxe3,Nxe3,d4,Ng4,f5,Rxe8+,Qxe8,Nge5,c5,Qd2,Qe6,Re1,Re8,Qxa5,Nf4+,Kg3,Nh5+,Kh2,Qd6,Qb5,Nf6,Qxb7,Re7,Qb5,Nd7,Kg2,Nxe5,Nxe5,Rxe5,Rxe5,Qxe5,a5,Qf6,Qxc5,Qg5+,Kf1,Qc1+,Kg2,Qg5+,Kf3,Qh5+,Kg3', 'f4+,Kxf4,Qxc5', 'https://lichess.org/training/SdzPw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SdzTf', 'Rapid', 'otat_mesham', 1810, 'e1948v', 1706, 'e4,e5,Nf3,Nc6,Nc3,Bc5,a3,a6,Bc4,d6,d3,Bg4,h3,Bh5,Bg5,Bxf3,Bxf7+,Kxf7,Qxf3+,Nf6,Nd5,Nd4,Qd1,h6,Bh4,g5,Bg3,Nxd5,Qh5+,Kg7,O-O,Nf4,Bxf4,exf4,g3,fxg3,fxg3,Nf3+,Kg2,Ne5,c3,Rf8,Rxf8,Qxf8,Rf1,Nf7,h4,Be3,Rf6,gxh4', 'Qg6+,Kh8,Rxf7,Qxf7,Qxf7', 'https://lichess.org/training/SdzTf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Se3gT', 'Blitz', 'emr1034', 1633, 'marsten10', 1736, 'b3,e5,Bb2,Nc6,e4,Nf6,d3,Bc5,Nf3,O-O,Nbd2,d5,Nxe5,dxe4,dxe4,Re8,Nxc6,bxc6,Bd3,Bxf2+,Kxf2,Ng4+,Kg1,Qg5,Nf3', 'Qe3+,Kf1,Qf2#', 'https://lichess.org/training/Se3gT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SE65g', 'Rapid', 'Greenfixer', 1891, 'djole61', 1848, 'e4,e5,f4,d6,Nf3,f6,Bc4,Ne7,O-O,Nd7,d4,Nb6,Bb3,Ng6,dxe5,fxe5,fxe5,Bg4,Bg5,Be7,Bxe7,Qxe7,exd6,cxd6,Nc3,Nh4,Qd3,O-O-O,Nxh4,Qxh4,Rf4,Qh5,Raf1,Rhe8,Qg3,Be6,Bxe6+,Rxe6,Qxg7,Qc5+,Kh1,d5,exd5,Nxd5,Nxd5,Qxd5,Qxh7,Re2,Qh3+,Kb8,Rf8,a6,Rxd8+,Qxd8,Qf3,Rxc2,Qa3,Qd5,Qf8+,Ka7,Qg7,Qd2,h3,Rxb2,Rf7', 'Rb1+,Kh2,Qd6+,Qg3,Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/SE65g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SE6VS', 'Rapid', 'jeoWhite', 1853, 'jaimevargaspaysen', 1792, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,dxe5,dxe5,Nc3,Bd6,Bg5,f6,Be3,Nge7,Bc4,a6,Nh4,b5,Bd5,Nxd5,Qh5+,Ke7,Nf5+,Bxf5,Nxd5+,Ke6,Qxf5+,Kf7,Qh5+,g6,Qf3,Nd4,Bxd4,exd4,O-O-O,Be5,Qb3,Kg7,f4,Bd6,Rxd4,c6,Ne3,Qc7,g3,Rhe8,Rhd1,Rad8,Qd3,Be7,Qc3,Rxd4,Rxd4,Rd8,Rxd8,Bxd8,Nd5', 'cxd5,Qxc7+,Bxc7', 'https://lichess.org/training/SE6VS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sE7ts', 'Rapid', 'phillipwhittaker', 1849, 'selbino', 1884, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,a6,Nf3,e6,e5,Nfd7,Bd3,Be7,O-O,O-O,Qe2,Nb6,Bd2,Bd7,Qe4,g6,Bh6,Bc6,Qg4,Re8,Bg5', 'Bxf3,Qxf3,Bxg5', 'https://lichess.org/training/sE7ts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('se7Vr', 'Blitz', 'NM smurf42', 2611, 'stachista', 2521, 'd4,Nf6,Bf4,g6,Qc1,c5,dxc5,Qa5+,Nd2,Qxc5,Nb3,Qb6,Nf3,Bg7,Be3,Qc7,Bh6,O-O,h4,Nc6,h5,d6,hxg6,fxg6,Bxg7,Kxg7,Qh6+,Kg8,c3,e5,e3,d5,O-O-O,a5,Ng5,a4,Nc5,a3,Nce6,axb2+,Kb1,Bxe6,Nxe6,Qf7,Nxf8,Rxf8,f3,Ra8,Bb5,d4,c4,Nb4,a4,Rxa4,Bxa4', 'Qxc4,Kxb2,Qa2+', 'https://lichess.org/training/se7Vr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Se8w7', 'Rapid', 'Balbueno', 1706, 'taoufiq63', 1632, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Nxd4,Qxd4,Bf6,e5,Qe7,O-O,Bxe5,Qg4,Nh6,Qf3,d6,Bxh6,gxh6,Nc3,Be6,Bxe6,fxe6,Qxb7,Rd8,Qxa7,Qh4,h3,Rg8,f4,Qg3,Rf2,Bxf4,Ne4,Qh2+,Kf1,Qh1+,Ke2,Qxa1,Rxf4,Rxg2+,Nf2,Qxb2,Qxc7,Rd7', 'Qc8+,Ke7,Qf8#', 'https://lichess.org/training/Se8w7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SEa4I', 'Blitz', 'qaderi', 2047, 'Sorrybouthat', 1916, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Nc6,O-O,Bg4,c3,e6,h3,Bh5,Be3,Bd6,Nbd2,O-O,Rc1,Qc7,Bb1,Ne4,Qe1,f5,Nxe4,fxe4,Nd2,Qb6,b3,Bb8,c4,Qc7,g3,Bf3,cxd5,exd5,Bc2,Qd7,Kh2,Rf6,Rg1,Bd6,Bd1,Nxd4,Bxd4', 'Qxh3+,Kxh3,Rh6#', 'https://lichess.org/training/SEa4I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('seate', 'Blitz', 'Abdurrokhman', 2176, 'alexeygr', 2174, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nde2,Be7,g4,Be6,Bg2,Nc6,f4,Qc7,f5,Bc8,g5,Nd7,Nd5,Qd8,O-O,Nb6,Nec3,Nxd5,Nxd5,b5,f6,gxf6,gxf6,Bf8,Be3,Rb8,a4,Be6,axb5,axb5,Ra6,Bxd5,exd5,Nb4,Ra7,h5,c3,Bh6,Bxh6,Rxh6,cxb4,Qb6+,Kh1,Qxa7,Qc1,Rg6,Be4,Rg3,Bf5,Qe3', 'Qc6+,Kf8,Qxd6+,Kg8,Qxb8#', 'https://lichess.org/training/seate');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SeBC5', 'Rapid', 'KGauss', 2092, 'mormonchess', 2023, 'd4,c6,c4,d5,Nf3,Nf6,Nc3,e6,Bg5,Be7,e3,O-O,Bd3,h6,Bh4,Bb4,O-O,Be7,h3,Nfd7,Bg3,Nf6,c5,Na6,a3,Nc7,b4,Nce8,a4,Nh5,Bh2,Nhf6,b5,Nh7,Qc2,Nef6,Rfb1,g5,Ne5,Bd7,a5,Kg7,a6,bxa6,bxc6,Bc8,Rb7,Bxb7,cxb7,Rb8,Nc6,Qd7,Nxb8,Rxb8,Bxb8,Qxb7,Bh2,g4,hxg4,Ng5,Bxa6,Qd7,Bb5,Qd8,c6,Bd6,Bxd6,Qxd6,Rxa7,Nxg4,g3,Nf3+,Kg2,Ne1+,Kh3,Nxc2,Kxg4,Ne1,c7,Qe7,f4,Qf6,c8=Q', 'Qf5+,Kh4,Ng2#', 'https://lichess.org/training/SeBC5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sEC9Q', 'Blitz', 'Uwe_C', 2179, 'Reproof_02', 2085, 'b3,Nf6,Bb2,g6,e3,Bg7,f4,d6,Nf3,Nbd7,Bc4,O-O,O-O,b6,Bb5,Bb7,Bxd7,Nxd7,Bxg7,Kxg7,d3,e5,f5,gxf5,Qe1,Kh8,Nbd2,Rg8,e4,f4,Nh4,Qf6,Rf3,Nf8,Rh3,Ng6,Nf5,d5,Qe2,dxe4', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/sEC9Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sedz3', 'Rapid', 'm4giikz', 2448, 'CM zim36', 2500, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,e6,Nc3,Nxc3,bxc3,d6,exd6,Bxd6,Bd3,O-O,O-O,h6,Bc2,Bd7,Qd3,f5,Re1,Qf6,Ba4,Rae8,Bxc6,Bxc6,Ne5,Be4,Qg3,f4,Qg4,Bh7,Nd7,Qf5,Qf3,Rf7,Ne5,Rc7,Bxf4,g5,Bd2,Bxe5,Qxf5,Bxf5,Rxe5,Rd8,h3,Kf7,Rae1,Rc6,h4,gxh4,Bxh6,Rxc3,Bg5,Rxd4,R1e2,Rg4,Be3,b6,a4,Rxa4,Rd2,Rd3', 'Rxf5+,exf5,Rxd3', 'https://lichess.org/training/sedz3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SeeQU', 'Blitz', 'IM Bentery', 2411, 'fallthrough', 2500, 'Nf3,e6,g3,Nf6,Bg2,Be7,O-O,h6,Re1,O-O,e4,Ne8,d4,d5,e5,c6,h4,Nd7,h5,b5,Bf4,Bb7,Nbd2,a5,Nf1,a4,N1h2,b4,Qd2,a3,b3,c5,Ng4,cxd4,Nxd4,Bc5,Bh3,Qb6,Be3,Bxd4,Bxd4,Qc6,Qxb4,Qc8,Qd2,Nc7,Bc3,Nb5,Bb4,Re8,Bg2,Qc6,c4,Na7,cxd5,exd5,Rac1,Qe6,Bh3,Kh8,Kh2,Nc6,Nf6,Ndxe5,Bxe6,Nf3+,Kh3,Nxd2,Nxe8,Nxb4,Bxf7,Nd3,Nc7,Rc8,Rcd1', 'Nxf2+,Kg2,Nxd1', 'https://lichess.org/training/SeeQU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SEmyo', 'Rapid', 'Cotne_gamer', 2125, 'SHAKHAWAT', 2169, 'd4,Nf6,Nf3,e6,Bg5,Be7,e3,b6,Bd3,Bb7,O-O,h6,Bh4,O-O,Nbd2,d5,Ne5,Nbd7,f4,c5,c3,Nxe5,fxe5,Nd7,Bxe7,Qxe7,Qg4,a5,Rf3,Ba6,Bc2,Be2,Raf1,Bxf3,Rxf3,f5,Qg6,Qf7,Qg3,b5,Rf1,b4,c4,Nb6,b3,cxd4,exd4,dxc4,bxc4,Rac8,Bd3,Qd7,Qe3,Na4,d5,Nc5,Qd4,Nxd3,Qxd3,exd5,cxd5,Rc3,Qd4,Rd8,d6,Qe6,Nf3,Rc2,Qb6,Rcc8,Nd4,Qxa2,Nxf5,Qe6,Ne7+,Kh7,Qd4,Rc4,Qd3+,g6,Qf3,Qxe5', 'Qf7+,Qg7,Qxc4', 'https://lichess.org/training/SEmyo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('seoKa', 'Blitz', 'Mikelins', 1949, 'achja', 2058, 'd4,Nf6,Bf4,c6,e3,g5,Bxg5,Qa5+,Nd2,Qxg5,Ngf3,Qg6,g3,h5,Bd3,Qg7,h4,d6,Ng5,Qg8,Bc4,d5,Bd3,Bh6,Ndf3,Bg4,Qd2,Nbd7,Qb4,O-O-O,a4,Ne4,Qxe7,Re8,Qxf7,Bxg5,Qxg8,Rexg8,Nxg5,Nxg5,hxg5,Rxg5,Kd2,Bf3,Rh2,Rf8,c4,Nf6,b3,Ne4+,Kc2,Bg4,Bxe4,dxe4,Ra2,Be2,Kc3,Bg4,b4,Rgf5,b5,Kc7,Kb4,Rh8,a5,a6,Rc2,Kd6,Rd2,Rf6,c5+,Kd5,Rh4,Rhf8,Rh2,Rf3,b6,R3f7,Kc3,Rh7,Rh4,Rfh8,Kb4,Bf3,Kc3,Rg7,Rf4,Rg5,Rf7,h4,gxh4,Rxh4,Rxb7,Rh1,Rd7+,Ke6,Rd6+,Ke7,Rxc6,Rc1+,Kb2,Rc4,Rc7+,Kd8,Ra7,Rg1,b7,Rb4+,Kc3,Rgb1,Rc2', 'R1b3+,Kd2,Rd3+,Kc1,Rd1#', 'https://lichess.org/training/seoKa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SEooS', 'Blitz', 'Ivanchuch', 2200, 'arti17', 2298, 'e4,c5,c3,e6,d4,d5,exd5,Qxd5,Nf3,Nf6,Be2,Be7,O-O,O-O,c4,Qd8,dxc5,Bxc5,Nc3,Nc6,b3,b6,Bb2,Bb7,Qc2,Qe7,Rad1,Rfd8,Rxd8+,Rxd8,Rd1,h6,Nb5,a6,Nc3,Nd4,Nxd4,Bxd4,Na4,e5,Bxd4,exd4,Nxb6,Qc5,Na4,Qg5,f3,Re8,Bd3,Nh5,Nb2,Nf4,b4,Bxf3,Rf1,Bxg2,Rxf4,Bh3+,Kh1,Qxf4,Qd1,Re1+,Qxe1', 'Qf3+,Kg1,Qg2#', 'https://lichess.org/training/SEooS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sEpHb', 'Rapid', 'Ishan_07', 1798, 'delta_gate', 1978, 'e4,d6,d4,Nf6,Nc3,g6,g3,Bg7,Bg2,h6,Nge2,Nc6,O-O,e5,d5,Ne7,f4,O-O,fxe5,dxe5,Bxh6,Bxh6,Rxf6,Kg7,Rf1,Be3+,Kh1,Rh8,Qd3', 'Rxh2+,Kxh2,Qh8+,Bh3,Qxh3#', 'https://lichess.org/training/sEpHb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SeQen', 'Rapid', 'yyermishin', 1876, 'a01a01', 1881, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,Nxc3,Qf3,e6,Qxc3,c5,Nf3,Nc6,O-O,Nd4,Nxd4,Qxd4,Qb3,a6,a4,Bd6,c3,Qf4,g3,Qf3,d4,O-O,dxc5,Bxc5,Qd1', 'Bxf2+,Rxf2,Qxd1+', 'https://lichess.org/training/SeQen');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('seQFY', 'Rapid', 'metal_boy', 1801, 'mojko', 1752, 'd4,d5,Bf4,Nf6,Nf3,Nc6,e3,e6,Bb5,Bd7,c4,Bd6,Bxd6,cxd6,cxd5,Nxd5,Nc3,a6,Ba4,Nxc3,bxc3,O-O,O-O,e5,d5,Ne7,Bc2,Qa5,Qd3,Bf5,e4,Bg4,Ng5,Rac8,Qg3,Rxc3,Qxg4,Rxc2,Qh4,h6,Nf3,Rxa2', 'Rxa2,Qxa2,Qxe7', 'https://lichess.org/training/seQFY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('seqSe', 'Rapid', 'vahiidd', 1888, 'LK98', 2104, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Nf3,d5,e3,c5,a3,Bxc3+,bxc3,b6,Be2,Nbd7,O-O,Bb7,Bb2,Re8,Rad1,Qc7,cxd5,exd5,c4,dxc4,Qxc4,Bd5,Qc2,Rac8,dxc5,Nxc5,Bxf6,Bb3,Qf5,Bxd1,Ng5,g6,Qh3,h5,Rxd1,Ne4,Nxe4,Rxe4,Bxh5,Re6,Bb2,Qc2,Bg4,Qxb2,Bxe6,Rc1,Bg4,Qd2,Qf3', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/seqSe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SeTiL', 'Blitz', 'ErKamayuk', 2245, 'mikaelisha', 2347, 'd4,e6,c4,Nf6,Nc3,c5,dxc5,Bxc5,Nf3,O-O,e3,Be7,Be2,d6,O-O,b6,b3,Bb7,Bb2,a6,Qd2,Nbd7,Rac1,Qc7,Rfd1,Rfd8,h3,Rac8,Nd4,Ne5,Ba1,Qb8,Rc2,Qa8,Bf1,Ne4,Nxe4,Bxe4,Rcc1,Nd7,Ne2,Nc5,Ng3,Bg6,Be2,Bf8,Bf3,Qb8,Qb2,e5,Qe2,h6,Bh5,Bh7,Qf3,g6,Bg4,f5,Nxf5,gxf5,Bxf5,Bxf5,Qxf5,Qc7,e4,Qh7,Qg4+,Qg7,Qf5,Be7,Rc3,Rf8,Qh5,Kh8', 'Rg3,Qf6,Rg6,Qxg6,Qxg6', 'https://lichess.org/training/SeTiL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('seuFN', 'Classical', 'Fredbek', 1765, 'manganit', 1725, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,d4,Nxd4,Bxd7+,Qxd7,Nxd4,exd4,Qxd4,Nf6,Nc3,c5,Qe3,Be7,Nd5,O-O,Qh3,Qxh3', 'Nxe7+,Kh8,gxh3', 'https://lichess.org/training/seuFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('seUJb', 'Rapid', 'hosseinfeizi', 1652, 'ChewbakaTheRookie', 1877, 'e4,c6,d4,d5,e5,Bf5,c3,e6,h4,h6,Bd3,Bxd3,Qxd3,Ne7,Nf3,Nd7,O-O,c5,Be3,Nc6,Nbd2,Qb6,Rab1,Be7,a3,a5,g3,Qc7,Nh2,c4,Qe2,b5,b4,axb4,axb4,Ra3,Rfc1,O-O,Ra1,Qa7,Rab1,Ra8,Qg4,Kh7,Qf3,f5,exf6,Bxf6,Ng4,Rf8,Nxf6+,Nxf6,Qf4,Qb8,Qxb8,Nxb8,Bf4,Nbd7,Bd6,Rf7,Ra1,Rxa1,Rxa1,Ng4,Bf4,Nf8,Ra5,Ng6,Be3,Rb7,Nf1,e5,Kg2,Nxe3+,fxe3,e4,Nh2,h5,Kh3,Ne7,g4,g6,gxh5,gxh5,Nf1,Kg6,Ng3,Rb6,Ne2,Kh6,Nf4,Nc6,Nxd5,Nxa5,Nxb6,Nc6,Kg3,Nxb4,d5,Kg6,Kf4,Nd3+,Kxe4,Nc5+,Kd4,Nb3+,Ke5,b4,Na4,Nc5,d6,Kf7,Kd4', 'Nxa4,d7,Ke7,d8=Q+,Kxd8', 'https://lichess.org/training/seUJb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sEuKA', 'Blitz', 'SG1975', 1781, 'cgroba', 1646, 'b3,d5,Bb2,c5,e3,b6,Bb5+,Bd7,Na3,Nc6,Nf3,a6,Bxc6,Bxc6,Ne5,Bb7,O-O,Qc7,Qf3,Nf6,Qh3,e6,f4,Bd6,c4,O-O,Nc2,Ne4,d3,Nf6,Qg3,dxc4,Nd7,Qxd7,Bxf6,g6,Qh4,h5,Qg5,Kh7,g4,Rg8,Kf2,Rae8,gxh5,Be7', 'hxg6+,Rxg6,Qh5+,Rh6,Qxf7#', 'https://lichess.org/training/sEuKA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sEurq', 'Rapid', 'Whitewing', 1863, 'italiaclassica92', 1810, 'e4,e5,Nf3,Nf6,d3,Nc6,Bg5,Be7,Nc3,d5,Bxf6,Bxf6,Nxd5,Be6,Nxf6+,Qxf6,Be2,O-O,c3,a5,Qa4,Bd7,Qc4,b6,O-O,Rac8,Rad1,Na7,d4', 'Bb5,Qxb5,Nxb5', 'https://lichess.org/training/sEurq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sEViB', 'Blitz', 'LM PeshkaCh', 2605, 'Rsshbtlll', 2210, 'd4,Nf6,c4,e6,Nf3,d5,g3,Be7,Bg2,O-O,O-O,c6,Qc2,Bd7,Nbd2,Na6,a3,Nc7,e4,dxe4,Nxe4,Nxe4,Qxe4,Bf6,Bf4,Rc8,Rad1,Qe7,Rfe1,Rfe8,b4,a5,Bd2,h6,h4,b5,c5,axb4,axb4,Nd5,Ne5,Bxe5,Qxe5,Ra8,Ra1,Reb8,Bxd5,cxd5,Qc7,Rc8', 'Rxa8,Rxa8,c6', 'https://lichess.org/training/sEViB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sevsy', 'Rapid', 'POLIN7', 1738, 'montonson', 1629, 'e4,c5,f4,e6,Nf3,Nc6,Bc4,d5,exd5,exd5,Qe2+,Be7,Bb3,Nf6,O-O,a6,a4,O-O,Ne5,Re8,Nxc6,bxc6,Qf3,Bf5,d3,c4,dxc4,Be4,Qg3,Bc5+,Kh1,Re6,cxd5,cxd5,Nc3,Nh5,Qh3,Rh6,Nxe4,Nxf4,Qf3', 'Rxh2+,Kxh2,Qh4+,Qh3,Nxh3', 'https://lichess.org/training/sevsy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SEX4b', 'Rapid', 'rmnp', 2337, 'canibalchess', 2180, 'Nf3,f5,c4,Nf6,g3,e6,Bg2,c6,O-O,d5,d3,Be7,Nc3,O-O,e4,fxe4,dxe4,dxe4,Ng5,Qxd1,Rxd1,e5,Ngxe4,Bg4,Re1,Nbd7,h3,Bf5,Be3,b6,Rad1,Rad8,g4,Bxe4,Nxe4,Nxe4,Bxe4,c5,Rd2,Nf6,Bd5+,Kh8,Red1,h6,Kg2,Kh7,f3,g5,Be6,Rxd2+,Rxd2,Rd8,Rxd8,Bxd8,Bd2,Kg7,Bc3,Ne8,Bxe5+,Bf6,Bxf6+,Kxf6,Bd5,Ke5,Kf2,Kd4,f4,gxf4,Kf3,Ke5,h4,Nf6,Bc6,Ng8,Be4,Nf6,Bb1,Ne8,g5,hxg5,hxg5,Nd6,b3,Nf5,g6,Nd4+,Kg4,Kf6,Kxf4,Ne2+,Ke3,Nc3,Bf5,Nxa2,Ke4,Nc1,Kd5,Nxb3,Kc6,Nd2,Bd3,a5,Kxb6', 'a4,Kxc5,a3,Kb4,a2', 'https://lichess.org/training/SEX4b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SEx9p', 'Rapid', 'omar_shehta77', 1939, 'pgsk1958', 2115, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,c3,d6,h3,g5,Nbd2,Bg7,a3,a6,Ba2,Qe7,Nf1,Be6,Bxe6,fxe6,Ng3,O-O-O,b4,d5,exd5,Nxd5,Qb3,e4,Nxe4,Nxc3,Nxc3,Rxd3,Bb2,Qf6,Rc1,Nd4,Nxd4,Qxd4,Qxe6+,Kb8,Na4,Qd8,O-O,Bxb2,Nxb2,Rxa3,Rfd1,Qc8,Qxc8+,Kxc8,Nc4,Rb3,Rb1,Rxb1,Rxb1,Re8,Ne3,c6,Rd1,Kc7,Kf1,b5,Ke2,Re4,Rc1,Kb6,Rb1,a5,bxa5+,Kxa5,Kf3,Rf4+,Ke2,b4,g3,Rf6,Ra1+,Kb5,Ra2,c5,Nd5,Re6+,Kd2', 'Rd6,Kc1,Rxd5', 'https://lichess.org/training/SEx9p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SEYtk', 'Classical', 'BobJames', 1997, 'Leonardo0251', 1974, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Bd6,Nc3,d4,exd4,exd4,Qe2+,Qe7,Bxc6+,bxc6,Ne4,Bf5,Nxd6+,cxd6,Bxd4,Qxe2+,Nxe2,f6,d3,Ne7,O-O,O-O,Ng3,Bg6,Rfe1,Nd5,Ne4,c5,Bb2,Rad8,Nc3,Nb4,Re2,Rfe8,a3,Rxe2,Nxe2,Nxc2,Nf4,Bf7,Rc1,Bxb3,Kf1,Re8,Ne2,Kf7,Nc3,a6,Ne4,Ke7,g4,Kd7,Bxf6,gxf6,Nxf6+,Ke7,Nxe8,Kxe8,Rb1,Nd4,f4,Kf7,Kf2,Kf6,h4,h6,Re1,Bf7,g5+,hxg5,hxg5+,Kf5,Kg3,Be6,a4,Kg6,Rh1,Nf5+,Kf3', 'Bd5+,Kf2,Bxh1', 'https://lichess.org/training/SEYtk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sEz7q', 'Blitz', 'beyinlazim', 2337, 'IM MitchyF', 2408, 'e4,e6,d4,d5,exd5,exd5,Nf3,Be6,Bd3,Be7,Qe2,Nc6,O-O,Nf6,c3,O-O,h3,Re8,Be3,Bd6,Nbd2,Nd7,Rfe1,Nf8,Qf1,Qd7,Rac1,Bf5,a3,Re7,c4,Bxd3,Qxd3,dxc4,Nxc4,Rae8,d5,a6,Nxd6,Qxd6,Bc5,Rxe1+,Nxe1,Ne5,Bxd6,Nxd3,Nxd3,cxd6,Rc7,Rb8,a4,g5,f3,h6,Kf2,Kg7,Ke3,Kf6,Kd4,b6,a5,bxa5,Rc6,Ke7,Rxa6,Rb5,Kc4,Rb7,Rxa5,Rc7+,Kd4,Rc2,g4,Nd7,b4,Rd2,Ke3,Rd1,Ra7,Kd8,b5,Kc8,b6,Nxb6,Rxf7,Nxd5+,Ke4,Nc3+,Ke3,d5,Nc5,d4+,Kf2,Rh1,Rd7,Nb5,Rd5,Kc7,Ne6+,Kc6,Rd8,Rd1,f4,gxf4,Kf3,Rd3+,Kxf4,Nd6,Ke5,Nf7+,Ke4,Nxd8', 'Nxd8+,Kd7,Kxd3,Kxd8,Kxd4', 'https://lichess.org/training/sEz7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SeZEZ', 'Classical', 'ostkataster', 2162, 'LandyPJY', 2220, 'e4,c5,f4,Nf6,d3,d5,e5,Bg4,Be2,Bxe2,Nxe2,Nfd7,O-O,e6,c4,d4,Nd2,Nc6,Ne4,Be7,Bd2,a6,N2g3,b5,b3,Qc7,Qg4,g6,Ng5,h5,Nxe6,fxe6,Qxe6,Nf8,Qh3,Qd7,f5,Nxe5,Rae1,Nxd3,Rxe7+,Qxe7,fxg6,Nxg6,Nf5,Ndf4,Bxf4,Nxf4,Rxf4,Qe1+,Rf1,Qe5,Qf3,Rd8,cxb5,axb5,Qc6+,Rd7,Qxb5,d3,Qc6,d2,Qc8+,Rd8,Qc6+,Kf8,Nh6+,Ke7', 'Rf7#', 'https://lichess.org/training/SeZEZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sf3u8', 'Rapid', 'DeathNote22', 1836, 'Overun', 1821, 'Nc3,g6,Nf3,Bg7,d4,d5,Bd2,Nc6,e4,e6,exd5,exd5,Bf4,Bg4,Be2,Nge7,Nb5,Rc8,Ne5,Bxe2,Qxe2,O-O,O-O,Re8,Nxc6,Nxc6,Qd2,a6,Nxc7,Rxc7,Bxc7,Qxc7,c3,Qd6,f4,Re4,Rae1,f5,Rxe4,dxe4,d5,Ne7,c4,b5,b3,bxc4,bxc4,Qc5+,Kh1,Bd4,Rd1,Bf2,d6,e3,dxe7,Qxe7,Qd5+,Qf7,Qd3,Qe6,Qe2,Qe7,Rc1,Qa3,Rc2,Qb4,g3,Qe1+,Qxe1,Bxe1,c5', 'Bd2,Kg2,e2,Rxd2,e1=Q', 'https://lichess.org/training/sf3u8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sf4eJ', 'Classical', 'aBaldBlackWoman', 1695, 'dogfrey', 1632, 'Nf3,d5,c4,e6,e3,Nf6,d4,Bd6,Nc3,O-O,c5,Be7,a4,a5,Bd3,b6,cxb6,cxb6,Nb5,Ba6,Bd2,Nc6,Ne5,Nxe5,dxe5,Ne4,Bc1,Nc5,Bc2,Rc8,O-O,Bxb5,axb5,Qc7,Bd2,Qxe5,Rc1,Qxb2,Bxh7+,Kxh7,Qh5+,Kg8,Bc3,Qxb5,Qg4,g6,Qh3,f6,Rb1,Qd3,Bd4,e5,Bxc5,Bxc5,Rfd1,Qc4,Qe6+,Kg7,Qd7+,Kh6,Qh3+,Kg7,Qd7+,Be7,Qxe7+,Kh6,Rxb6,Qc1', 'Qxf8+,Rxf8,Rxc1', 'https://lichess.org/training/sf4eJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SF4eO', 'Rapid', 'Gregor_Baron', 1743, 'd4c6', 1674, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Qe2,Bg4,f3,Bh5,g4,Bg6,Bb5+,Nc6,h4,h6,h5,Bh7,Nc3,e6,a3,Bd6,Nh3,Nd7,Be3,Qh4+,Bf2,Qf6,Bxc6,bxc6,O-O-O,Rb8,f4,Bxf4+,Nxf4,Qxf4+,Be3,Qf6,Qa6,Qf3,Rde1,O-O,g5,hxg5,Bxg5,Rb6,Qxa7,Rfb8,Na4,R6b7,Qa5,Qf5,Qd2,Nf6,Rhf1,Ne4,Qg2', 'Qxg5+,Qxg5,Nxg5', 'https://lichess.org/training/SF4eO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sf65f', 'Blitz', 'Nad16', 2140, 'randeto', 2181, 'e4,c5,Nc3,e6,g3,d5,exd5,exd5,d4,Nf6,Bg2,c4,Bg5,Be6,Nge2,Be7,Nf4,Qd7,Bxf6,Bxf6,Nfxd5,Bxd5,Nxd5,Qe6+,Qe2,Qxe2+,Kxe2,Bxd4,Nc7+,Kd7,Nxa8,Nc6,c3,Be5,Rad1+,Ke7,f4,Bd6,Bd5,Rxa8,Bxc4,Rd8,Rhe1,Kf6,Kf3,g5,b4,gxf4,gxf4,Ne7,Re4,Nf5,Re2,Rc8,Re4,b5,Bxb5,Rxc3+,Kf2,Ra3,Bd7,Rxa2+,Kg1,Bc7,Bxf5,Kxf5,Re7,Bb6+,Kh1,Kf6,Rdd7,Ra1+,Kg2,Ra2+,Kf3,Ra3+,Kg4,Kg6,Rxf7', 'h5+,Kh4,Bf2#', 'https://lichess.org/training/sf65f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sf8CB', 'Rapid', 'farqaleet', 1826, 'skakkolomatto', 1733, 'd4,d5,Nc3,e6,a3,c5,dxc5,Bxc5,Nf3,h6,Bf4,Nc6,Nb5,Bb6,Nd6+,Ke7,Ne5,Nxe5,Bxe5,f6,Bg3,e5,Qxd5,Qxd6,Qxd6+,Kxd6,O-O-O+,Ke6,e4,Ne7,f4,Be3+,Kb1,Bxf4,Bxf4,exf4,Bc4+,Ke5,Rhe1,Nc6', 'Rd5+,Ke6,Rd8+', 'https://lichess.org/training/sf8CB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sf8G3', 'Blitz', 'Krevet', 1951, 'Krunoslav', 1870, 'h4,e6,Nh3,d5,Ng1,Nf6,Nh3,g6,Ng1,Bg7,Nh3,O-O,Ng1,c5,Nh3,Nc6,Ng1,b6,Nh3,Bb7,Ng1,Qc7,Nh3,Nd4,Ng1,Ne4,e3,Nc6,d3,Nf6,f4,Rac8,Nf3,d4,e4,Rfe8,g3,Nb4,a3,Na6,Bg2,Nh5,Kf2,Nb8,Ne5,Nd7,Nxd7,Qxd7,Bf3,Nf6,h5,c4,hxg6,fxg6,Nd2,cxd3,cxd3,Rc7,Nc4,Rec8,a4,Qe7,Bd2,Nd7,e5,Nc5,Bxb7,Nxb7,Qf3,Bf8,Rh2,Nc5,Rah1,Qd8,g4,Qd5,Qxd5,exd5,Na3,Nxd3+,Kg3,Nxb2,Nb5,Rc2,Nxd4,R2c4,Ne6,Nxa4,Rxh7,Nc5,Rh8+,Kf7,Nxf8,Rxf8,R1h7+,Ke8,Rxf8+,Kxf8,Rxa7,Ne4+,Kh4,Nxd2,Kg5,b5,f5,b4,Kf6,Rc6+,e6,Ke8', 'Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/sf8G3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SFARA', 'Rapid', 'ngoshady-karpov', 1902, 'Dima_Horielov', 2238, 'c4,e5,Nc3,f5,g3,Nf6,Bg2,c6,e3,d6,Nge2,Be6,b3,Be7,d4,O-O,O-O,Nbd7,Bb2,a5,Qd2,Qe8,Rad1,Qh5,d5,cxd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5+,Rf7,Nc3,Nf6,Qg2,f4,exf4,exf4,Nd5,f3,Nxf6+', 'Bxf6,Qh1,Bxb2', 'https://lichess.org/training/SFARA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sFasv', 'Classical', 'flechsig', 1904, 'Aidy', 1996, 'e4,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Bc4,c6,Bxf7,Nf6,f3,h6,Nc3,Bc5,Ke2,Rf8,Bb3,Nh5,g3,g5,Be3,Bxe3,Kxe3,Kc7,Nge2,Bh3,Rhd1,Na6,Ng1,Bg2,Be6,Nc5,Bg4,Nf6,b4,Nxg4+,fxg4,Ne6,b5,Nd4,bxc6', 'Nxc2+,Kd3,Nxa1', 'https://lichess.org/training/sFasv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfAuU', 'Rapid', 'serprex', 1719, 'Essency', 1745, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,a3,O-O,c3,d6,d4,exd4,cxd4,Bb6,Nc3,Bg4,Bxc6,Bxf3,Qxf3,bxc6,Be3,Qd7,Rad1,Rfe8,Rfe1,Ng4,Bf4,f5,h3,Nf6,e5,Ne4,Nxe4,fxe4,Rxe4,d5,Re2,Qf5,g4,Qe6,Qc3,Rf8,Bg3,h5,gxh5,Qxh3,Qxc6,Rf5,Qxd5+,Kh8,Qxa8+,Kh7,Qe4,Kg8,Qd5+,Kh8,Rd3,Rxh5,Qg2,Qf5,Rf3', 'Qb1+,Qf1,Rh1+,Kxh1,Qxf1+,Kh2,Qxe2', 'https://lichess.org/training/SfAuU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sfBAI', 'Blitz', 'Super40thchess', 1999, 'Stronghold_KBPL', 2012, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,Bg4,O-O,e6,d4,Bd6,Re1,O-O,h3,Bh5,g4,Bg6,Ne5,Nc6,f4,Bxe5,dxe5,Nd5,Nxd5,exd5,Bxd5,Qh4,Bg2,Rad8,Qe2,h6,Be3,Nd4,Bxd4,Rxd4,c3,Rd3,f5,Rfd8,fxg6,Rd2,gxf7+,Kf8,Qf3,R8d3,Qxd3', 'Qf2+,Kh2,Qxg2#', 'https://lichess.org/training/sfBAI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfbgS', 'Blitz', 'FM Jazzyjef', 2468, 'LandLawyer', 2380, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Nc6,h3,g6,Bg5,Bf5,Bxf6,exf6,Bxf5,gxf5,Ne2,Rg8,g3,h5,Qd3,Qd7,h4,Bd6,Qf3,O-O-O,Nd2,Bc7,O-O-O,Rde8,Kb1,Re7,Nb3,Rge8,Nc5,Rxe2,Nxd7,Kxd7,Qxf5+,Kd6,Qxf6+,R8e6,Qf4+,Kd7,Qxf7+,Kc8,Qxh5,Rxf2,Qxd5,Ree2,Qb3,Na5,Qg8+,Bd8,h5,b5,Ka1,Nc4,Rb1,Nd2,h6,Rf6,Qg4+,Kb8,Qxe2', 'Nb3+,axb3,Ra6#', 'https://lichess.org/training/SfbgS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sFbJM', 'Rapid', 'NotSoNaturalLog', 1913, 'hamery93', 1737, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f3,h5,Qd2,Be7,O-O-O,O-O,Bg5,Nbd7,h3,b5,g4,Rc8,Bxf6,Nxf6,g5,Nd7,h4,Qc7,Nd5,Bxd5,exd5,Nb6,Bd3,Nc4,Bxc4,bxc4,Na5,c3,Qxc3,Qxc3,bxc3,Rxc3,Nc6,Bd8,Rhf1,Bb6,Kb2,Re3,Rde1,f5,Rxe3,Bxe3,Kc3,f4,Nb4,Rc8+,Kd3,Rc5,Nxa6,Rxd5+,Kc4,Rd4+,Kb5,Rd2,Nb4,Rh2,a4,Rxh4,a5,Rh2,a6,Ba7,Nc6,Bc5,a7,Bxa7,Nxa7,Rxc2,Rd1,Rb2+,Kc4,h4,Rxd6,h3,Rd1,h2,Kd5', 'Rd2+,Rxd2,h1=Q', 'https://lichess.org/training/sFbJM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sFbJN', 'Blitz', 'gamer927', 1588, 'MaiorMinos', 1589, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Ng5,O-O,Nc3,h6,Nf3,d6,Bd2,Ng4,O-O,Be6,Nd5,Bxd5,exd5,Nd4,Nxd4,Bxd4,Qxg4,f5,Qg3,Qd7,Bxh6,f4,Qg6,e4,dxe4,Rae8,h3,Rf6,Qg4,Rxh6,Qxd7,Rxe4,Bb3,f3,gxf3,Rf4,Kg2,Rg6+,Kh2,Rxf3,Qxc7', 'Be5+,Kh1,Rxh3#', 'https://lichess.org/training/sFbJN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SFBVJ', 'Blitz', 'humbertogguimaraes', 1934, 'Ryomabastian', 1834, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Bc4,h6,Qb3,Qe7,Nxc3,Nf6,O-O,d6,Nd5,Nxd5,exd5,Ne5,Re1,Qf6,Nxe5,dxe5,f4,Bd6,fxe5,Bxe5,Be3,O-O,Rab1,Rb8,Bc5,Bd6,Bxd6,Qxd6,Kh1,Bf5,Rbd1,Qg6,Qf3,Bg4,Qd3,Bxd1,Qxd1,Rbe8,Rf1,c6,d6,Rd8,d7,b5,Bb3,a5,a3,a4,Ba2,Qg5,g3,Qc5,Bb1,g6,Qg4,Qe7,Rd1,Kg7,Qd4+,f6,Qd3,Rf7,Qxg6+,Kf8,Qxh6+,Rg7,Qh8+,Rg8,Qh6+,Rg7,Ba2,Rxd7', 'Qh8+,Rg8,Qxg8#', 'https://lichess.org/training/SFBVJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfCxk', 'Rapid', 'cuculus48', 1944, 'robertoortiz_1955', 1942, 'Nc3,f5,e4,fxe4,Nxe4,e5', 'Qh5+,g6,Qxe5+,Qe7,Qxh8', 'https://lichess.org/training/SfCxk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SFD0C', 'Rapid', 'turtule', 2029, 'marlei', 1987, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Bb4,Bxf7+,Kxf7,Qb3+,d5,Qxb4,c2,Nc3,dxe4,Qxe4,Nf6,Qxc2,Re8+,Be3,Kg8,Nge2,Ng4,Qb3+,Kh8,Nd1,Qh4,Qf7,Bd7,Bd4,Qh6,h3,Bb5,Ne3,Nxe3,Bxe3,Qa6,O-O,Nc6,Nf4,Bxf1,Rxf1,Re7,Qh5,Ne5,Bd4,Rae8,Rd1,Qa4,Bxe5,Rxe5', 'Ng6+,Kg8,Nxe5,Qxd1+,Qxd1', 'https://lichess.org/training/SFD0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfeNJ', 'Rapid', 'Zura2000', 2053, 'MRMTMS', 1971, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,e4,e5,d5,c6,Nf3,cxd5,cxd5,d6', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/SfeNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sFfle', 'Rapid', 'ahmadhamed99', 1643, 'A4Fundamentalist', 1651, 'e4,d5,exd5,Qxd5,Nf3,Qd6,Nc3,Bg4,h3,Bh5,Be2,c6,O-O,e6,Ne4,Qd8,d3,Nf6,Bg5,Be7,Qd2,Nbd7,a3,h6,Bh4', 'Nxe4,Bxe7,Nxd2', 'https://lichess.org/training/sFfle');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sfg19', 'Rapid', 'Alexey_Khashev', 1764, 'hsyn--66', 1873, 'd4,g6,e4,Bg7,Nf3,d6,h3,Nf6,Nc3,a6,Be3,O-O,Bd3,b5,e5,dxe5,dxe5,Nd5,Nxd5,Qxd5,Bf4,Bb7,O-O,Nc6,Re1,Nd4', 'Be4,Qxe4,Rxe4', 'https://lichess.org/training/sfg19');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfhJM', 'Blitz', 'bukowskic', 2009, 'Espi85', 2021, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d5,exd5,Qxd5,Nf3,Qd8,Bb5,Bg4,Qd3,Nf6,Bxc6+,bxc6,O-O,Bxf3,Qxf3,Nd5,Nc3,e6,Nxd5,cxd5,Qb3,Qd7,Bd2,Bd6,Bb4', 'Rb8,Bxd6,Rxb3,axb3,Qxd6', 'https://lichess.org/training/SfhJM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfHYI', 'Rapid', 'detroyer69', 1864, 'wrongmistake', 1893, 'd4,d5,c4,e6,Nc3,c6,Nf3,a6,cxd5,exd5,Bf4,Nf6,Qb3,b5,Rc1,a5,e3,a4,Qc2,Bb4,a3,Bxc3+,Qxc3,Ne4,Qb4', 'Na6,Qd2,Nxd2', 'https://lichess.org/training/SfHYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sFiiq', 'Blitz', 'CM alawwyaka', 2289, 'Chess4u-tv', 2173, 'd4,d5,c4,Bf5,cxd5,Bxb1,Rxb1,Qxd5,b3,Nc6,Nf3,O-O-O,e3,e5,Bc4,Bb4+,Ke2,Qa5,a3,Bc3,b4,Qb6,d5,Nf6,Qb3,e4,Ng5,Ne5,Qxc3,Rhe8,Bb2,h6,Nh3,Nxc4,Qxc4,Nxd5,Rhd1,Qe6,Rbc1,Kb8,Kf1', 'Nxe3+,fxe3,Rxd1+,Rxd1,Qxc4+', 'https://lichess.org/training/sFiiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SFIKl', 'Blitz', 'CuzImBetter', 2231, 'Bohnenbauer', 2312, 'd4,d5,c4,c6,Nf3,Nf6,cxd5,cxd5,Nc3,Nc6,Bf4,Qb6,Bc1,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Nb4,Qe2,Ne4,Nxe4,dxe4,Ng5,Nd3+,Kf1,f5,f3,Rc8,Bd2,Qxb2,Rd1,Rc2,fxe4,Nc1,Qe1,Be7,Nxe6,Qxa2,Nxg7+,Kf7,Nxf5,Bb4,Bxb4,Qc4+,Kg1,Ne2+,Kf2,Nxd4+,Kg3,Nxf5+,exf5', 'Rg8+,Kh3,Qg4#', 'https://lichess.org/training/SFIKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sFo6z', 'Rapid', 'JNarzabal_Dipolog_11', 1823, 'MarkCaesar', 2044, 'd4,Nf6,Bf4,d5,Nf3,Bf5,e3,e6,Bd3,Bg6,Nbd2,Nbd7,Qe2,Ne4,Ne5,Nxe5,dxe5,Bb4,c3,Be7,Nxe4,dxe4,Bc2,c6,Rd1,Qc7,O-O,O-O,Rd4,b5,Bxe4,Bc5,Bxg6,Bxd4,Bxh7+,Kxh7,exd4,Rh8,Rd1,Kg8,a4,a6,b4,a5,axb5,axb4,bxc6,bxc3,Qc4,Rc8,d5,exd5,Rxd5,Qxc6,Rd8+,Kh7,Qd3+,g6', 'Qh3+,Kg7,Qxh8#', 'https://lichess.org/training/sFo6z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sfoGM', 'Classical', 'AkibaGoldstein', 1897, 'Emes', 1657, 'e4,c5,d4,e6,dxc5,Bxc5,Nf3,Nf6,e5,Ne4,Be3,Qb6,Be2,Bxe3,fxe3,Qxe3,Rf1,Nc6,Qd3,Qc1+,Bd1,Qxb2,Qxe4,Qxa1,c3,b6,Ng5,g6,Nxf7,Rf8', 'Nd6+,Kd8,Rxf8+', 'https://lichess.org/training/sfoGM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfOtm', 'Rapid', 'Phantomsweepteil', 1783, 'RabbitBoss', 1783, 'e4,c5,Nc3,Nc6,f4,d6,e5,dxe5,fxe5,Nxe5,Nf3,Nc6,Bc4,Nf6,O-O,Bg4,Bxf7+,Kxf7,Ng5+,Kg6,Qe1,Kxg5,h3,Qd4+,Kh1,Bd7,Qg3+,Bg4,d3+,Kg6,hxg4,Qxg4', 'Rxf6+,gxf6,Qxg4+', 'https://lichess.org/training/SfOtm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sfqzF', 'Blitz', 'Mr__Bean', 2138, 'Perform', 2090, 'b3,e6,Bb2,Nf6,e3,d5,f4,Be7,Nf3,c5,Bb5+,Nc6,O-O,Qb6,a4,O-O,Bxc6,bxc6,Ba3,Ba6,d3,Rfe8,Nbd2,c4,dxc4,Qxe3+,Kh1,Bxa3,Rxa3,dxc4,Qe1,Qxf4,Ne5,Qd4,Ndxc4,Bxc4,Nxc4,Red8,Ra1,Ne4,Qh4,f6,Rae1,f5,Re2,g5,Qh6,Rf8,Qxe6+,Kh8,Ne5,Rae8,Nf7+,Kg7,Qh6+,Kxf7,Qxh7+,Ke6,Qg6+,Rf6,Qxg5,Kf7,Qh5+,Kg7,Qxe8', 'Ng3+,hxg3,Rh6+,Qh5,Rxh5#', 'https://lichess.org/training/sfqzF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sFsXJ', 'Blitz', 'Cavemansmoon', 1903, 'MrBlunder_com', 1963, 'd4,e6,c4,Nf6,Nc3,d5,Nf3,dxc4,Bg5,a6,a4,Be7,Bxf6,Bxf6,e3,c5,Bxc4,cxd4,exd4,b6,Ne4,O-O,Nxf6+,Qxf6,Bd3,Bb7,Qc2,Bxf3,Bxh7+,Kh8,gxf3,g6,h4,Kxh7,h5,Nd7,hxg6+,Kg7,Rh7+,Kg8,g7,Rfc8', 'Rh8+,Kxg7,Qh7#', 'https://lichess.org/training/sFsXJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sft7M', 'Rapid', 'EmileChesky', 1744, 'WojSan16', 1689, 'd4,Nf6,Bf4,d6,e3,Bf5,c4,c5,dxc5,Qa5+,Nc3,Qxc5,Nf3,e5,Bg3,h6,Bh4,Be7,Bxf6,Bxf6,Bd3,e4,Bxe4', 'Bxc3+,bxc3,Bxe4', 'https://lichess.org/training/sft7M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfTC9', 'Blitz', 'dors', 2130, 'UnLuckyNiko', 1791, 'Nf3,d6,c4,f5,Nc3,e5,d3,Nf6,g3,Be7,Bg2,O-O,O-O,Qe8,Bg5,Qh5,Bxf6,Rxf6,Nd5,Rh6,Nxe7+,Kf7,Nxc8,Nc6,Qb3,Nd4,Nxd6+,Kg8,Nxf5', 'Nxf3+,Kh1,Qxh2#', 'https://lichess.org/training/SfTC9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sftL5', 'Rapid', 'alanogier', 1672, 'blOrt', 2286, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Qd5,f6,exf6,Nxf6,Qd1,b6,Bg5,Qb4+,Bd2,Qxb2,Bc3', 'Bb4,Nfd2,Bxc3', 'https://lichess.org/training/sftL5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sFU3W', 'Blitz', 'Kunal_James', 1844, 'ilha09', 1876, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,h3,Qb6,Ndb5,a6,Be3,Qa5,Bd3,axb5,O-O,b4,Nb5,Nxe4,a4,Nc5,Bxc5,dxc5,Qh5,e6,f4,Be7,f5,exf5,Bxf5,Bxf5,Qxf5,O-O,Rae1,Qxa4,Nc7,Rad8,Nd5,Bd6,Qg4,Bh2+,Kxh2,Rxd5,Qf3,Rd4', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/sFU3W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfU4v', 'Classical', 'jbsegal', 1659, 'teodoros_bougas', 1669, 'e4,e6,d4,d5,e5,c5,c3,f6,f4,fxe5,fxe5,Qh4+,g3,Qe4+,Qe2,Qxh1,Be3,Qe4,Nf3,cxd4,Nxd4,Nc6,Bh3,Nxd4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,Qh1+,Bf1,Qe4,Bg2,Qf5,Qb5+,Bd7,Qxb7,Rc8,Kd2,Nh6,Rf1,Qh5,Re1,Qxh2,Re2,Qxg3,Bxh6,gxh6,Bxd5,Qf4+,Kd3,exd5,e6,Qf5+,Kd2,Bxe6', 'Qxc8+,Kf7,Qxh8', 'https://lichess.org/training/SfU4v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfUtR', 'Rapid', 'AlbertEinstein0120', 2371, 'Tavini', 1916, 'Nf3,d5,e3,c5,d4,Nc6,c4,Bg4,Be2,e6,h3,Bh5,Nc3,Nf6,a3,Rc8,Qa4,Qd7,cxd5,exd5,Nd2,Bxe2,Nxe2,Bd6,dxc5,Bxc5,Nf4,O-O,b4,Bd6,O-O,Bxf4,exf4,Nd4,Nf3,Qxa4,Nxd4,a5,Be3,axb4,axb4,Qxb4,Nf5,Rfe8,Rfb1,Qf8,Rxb7,g6,Bd4,Ne4,Bg7,Qc5,Bd4,Qc2', 'Nh6+,Kf8,Rxf7#', 'https://lichess.org/training/SfUtR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfVl1', 'Blitz', 'Yannes', 1929, 'RRaptor', 1917, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Be7,O-O,Bg4,Re1,Bf6,h3,Bh5,d4,Ne7,d5,a6,Ba4,b5,Bb3,Na5,Bc2,O-O,Qd3,Nc8,Nbd2,Be7,Nf1,Nb7,Ng3,Nc5,Qe3,Bg6,Nh2,h6,Ng4,Bg5,Qf3,Bxc1,Raxc1,Ne7,h4,Qd7,h5,Bh7,Ne3,f6,Nef5,Nxf5,Nxf5,Qf7,Qh3,Kh8,g4,Bxf5,gxf5,Qd7,Kh2,a5,b3,b4,c4,a4,Re3,axb3,axb3,Ra2,Rg3,Rfa8,Qg2,Rb2,Rg1,Rg8,Bd1,Rd2,Rg6,Kh7', 'Rxh6+,gxh6,Qxg8#', 'https://lichess.org/training/SfVl1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SFVNn', 'Blitz', 'joche_2', 1689, 'oguzkaangok96', 1696, 'e4,e5,c4,Nf6,Nc3,Bb4,d3,O-O,Bd2,Nc6,f4,d6,f5,b6,Qf3,Bb7,O-O-O,Nd4,Qh3,a5,Nf3,a4,a3,Bxc3,Bxc3,Nb3+,Kc2,c6,g4,d5,g5,d4,Bb4,c5,Bd2,Ne8,Nxe5,Nd6,g6,h6,Bxh6,fxg6,Nxg6,Rf6,Bg5,Nxf5,Bxf6,Qxf6,Rg1,Ne3+,Kb1,Nxd1,Qh8+,Kf7,Qh5,Ne3,Nh8+,Kg8,Bh3,Qf2,Qg6,Qc2+,Ka2,Nc1+,Ka1,Nb3+,Ka2,Nc1+,Rxc1,Qxc1,Qf7+,Kxh8', 'Qh5+,Kg8,Be6+,Kf8,Qf7#', 'https://lichess.org/training/SFVNn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfWje', 'Rapid', 'Scott_lightyear', 1781, 'Ammar_Ahmed', 1771, 'd4,Nf6,Bf4,d6,e3,c5,c3,cxd4,exd4,d5,Nd2,e6,Ngf3,Be7,Bd3,Nc6,Ne5,Nxe5,dxe5,Nd7,Nf3,O-O,Bc2,f5,O-O,Rf7,a4,Nf8,Nd4,Ng6,Bg3,Qc7,Qe2,Bd7,Bd3,a6,c4,dxc4,Bxc4,f4,Nxe6,Bxe6,Bxe6,fxg3,Bxf7+,Kxf7,fxg3+,Kg8,Rac1,Qb6+,Kh1,Re8,Qf3,Nxe5', 'Qd5+,Kh8,Qxe5', 'https://lichess.org/training/SfWje');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sfx0D', 'Rapid', 'ekinoks', 1912, 'Rutra2008', 1813, 'e4,h5,d4,d5,e5,Nc6,c3,Bf5,Bg5,f6,Bf4,g5,Be3,fxe5,Bxg5,exd4,cxd4,Nf6,Nc3,Bh6,Bxf6,exf6,Qxh5+,Kd7,Qxf5+,Ke8,Qe6+,Kf8,Nxd5,Kg7,Nf3', 'Re8,Qxe8,Qxe8+', 'https://lichess.org/training/sfx0D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfXh3', 'Blitz', 'FM cant_handle_h5', 2544, 'FM Ratbel', 2506, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,Re8,Re1,Na6,Bf4,Nc7,a4,b6,e4,Nh5,Bd2,Ba6,Qc2,Rc8,Rad1,Nf6,Bf4,Nh5,Bg5,Qd7,h3,h6,Bc1,Bb7,Kh2,Na6,h4,Nb4,Qb1,Nf6,Bh3,Ng4+,Kg2,Rcd8,Nh2,f5,exf5,gxf5,f3,Rxe1,Rxe1,Nxd5,Nxd5,Bxd5,Qd3,Qf7,Nxg4,fxg4,Bxg4,h5,Bf5,Rf8,Bh7+,Kh8,Be4,Bxe4,Rxe4,d5,Rf4,Qe6,b3,Rxf4,Bxf4,c4,bxc4,dxc4,Qd8+,Kh7,Qc7,c3,Kh2,Qe2+,Kh3,Qxf3,Qxa7', 'Qh1#', 'https://lichess.org/training/SfXh3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sfXLr', 'Blitz', 'Piero3017', 1544, 'Stefaaan', 1538, 'd4,b6,e3,Bb7,Nf3,e6,Be2,Be7,O-O,Nf6,c4,d5,Nc3,Bd6,b3,h5,Bb2,Ne4,Ne5,h4,Nxe4,dxe4,f3,h3,g3,Bxe5,dxe5,Nc6,fxe4,Qg5,Qd3,Nxe5,Bxe5,Qxe5,Rad1,Bxe4', 'Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/sfXLr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sFXS9', 'Rapid', 'Heartless_MF', 1944, 'john3956w', 2070, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,Bg5,Be2,O-O,O-O,f5,Bf3,Rb8,Nc2,Ne7,Ncb4,Bb7,Nxe7+,Qxe7,exf5,e4,Bg4,Rfd8,Nd5,Qf7,Ne3,d5,Qb3,Kh8,Rad1,Bf6,f3,Bg5,Nc2,Qc7,fxe4,dxe4,Nd4,Bd5,Qa3,Qb6,Kh1,Bc4,Rfe1,Qb7,b3,Bf7,Qb2,Re8,Ne6,Bxe6,fxe6,e3,Rd7,Qe4,Qe2,Rbc8,Rf1,Bh6,h3,Rxc3,Rff7,Rc1+,Kh2', 'Bf4+,Rxf4,Qxf4+', 'https://lichess.org/training/sFXS9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sFXZU', 'Classical', 'antoinemorazin', 1668, 'Cow1337killr', 1857, 'd4,Nf6,Bf4,e6,e3,d5,Be2,c5,c3,Nc6,Nd2,Be7,Ngf3,h6,Ne5,O-O,Qa4,Nxe5,Bxe5,Nd7,Bg3,a6,Nf3,b5,Bxb5', 'Nb6,Qd1,axb5', 'https://lichess.org/training/sFXZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SFZCl', 'Rapid', 'solidair', 1628, 'RafaFS', 1605, 'Nf3,d5,d3,Nc6,Nbd2,e5,e4,dxe4,dxe4,Bg4,g3,Bxf3,Qxf3,Nd4,Qc3,Bb4,Qc4,b5,Qd3,Bxd2+,Bxd2,Qf6,Bg2,O-O-O,O-O,Nh6,Be3', 'Nf3+,Bxf3,Rxd3,cxd3,Qxf3', 'https://lichess.org/training/SFZCl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfZjh', 'Classical', 'Jazzon1', 1874, 'enigma10', 1920, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,Nxe5,Qd4,Nd3,Nf6,Nc3,O-O,O-O,Nxe4', 'Nxe4,Qxe4,Nxc5', 'https://lichess.org/training/SfZjh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SFZNu', 'Rapid', 'net9lev', 2154, 'Diernwanjia', 1769, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qc7,Nc3,e5,Nd5,Qa5+,Bd2,Qd8,Nb5,Qh4,Nbc7+,Kd8,Nxa8,Qxe4+,Ne3,d5,Qf3,Qxf3,gxf3,d4,Nd5,Bd6,b4,Nge7,b5,Nxd5,bxc6,bxc6,Ba5+,Kd7,Bc4,Bb7,Bxd5,cxd5,Nb6+,axb6,Bxb6,Ba6,Ba5,Rb8,Kd2,e4,Rab1', 'Bf4+,Kd1,Rxb1#', 'https://lichess.org/training/SFZNu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SfZQz', 'Classical', 'SedmoyRazryad', 1761, 'smfi', 1953, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,Nf3,Nf6,Bb5+,Nc6,h3,Qb6,Bxc6+,bxc6,O-O,Be6,Ng5,cxd4,Nxe6,fxe6,Na4,Qb5,Qxd4,c5,Nc3', 'Qxf1+,Kxf1,cxd4', 'https://lichess.org/training/SfZQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SG22v', 'Blitz', 'NM MetalRatel', 1953, 'walteriorocha', 2017, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5c3,Nf6,g3,Be7,Bg2,O-O,O-O,Bg4,Qd2,Nd4,f4,Qc8,f5,Qxc4,b3,Qc8,h3,Bh5,g4,Bxg4,hxg4,Nxg4,Nd5,Bh4,f6,Nxf6', 'Ne7+,Kh8,Nxc8', 'https://lichess.org/training/SG22v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sg4lo', 'Rapid', 'NOVBRE', 1831, 'georgeglue', 1809, 'd4,Nf6,c4,e6,Nf3,b6,Bg5,c5,d5,exd5,cxd5,d6,Nc3,Be7,e4,Bb7,h3,Nbd7,Bd3,h6,Bh4,Ne5,Nxe5,dxe5,Bb5+,Nd7,Bxe7,Qxe7,O-O,O-O,Bxd7,Qxd7,Qe2,f5,f3,a5,a4,Ba6,Nb5,Rac8,Rfd1,c4,Nc3,Rf7,Qe3,Qd6,Re1,Qb4,Qd2,fxe4,fxe4,Rcf8,Rf1', 'Qc5+,Kh2,Rxf1,Rxf1,Rxf1', 'https://lichess.org/training/sg4lo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sg5Kp', 'Rapid', 'Gen1962', 1681, 'Qualquernome', 1697, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,Bb7,O-O,d5,e5,f6,c3,fxe5,Re1,e4,Be2,Nf6,Bh5+,Nxh5,Qxh5+,g6', 'Qe5,Rg8,Qxe6+', 'https://lichess.org/training/Sg5Kp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sG75A', 'Blitz', 'erinzo', 1613, 'eurides', 1609, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Bf5,Nf3,e6,Be3,Nf6,h3,Be7,Bd3,O-O,Bxf5,exf5,O-O,c6,Ne5,Nbd7,f4,Nxe5,fxe5,Nd5,Nxd5,Qxd5,Qf3,g6,Qxd5,cxd5,Rac1,a5,c4,dxc4,Rxc4,b5,Rc7,Bd8,Rb7,b4,g3,h5,Kg2,f6,e6,Re8,d5,Be7,Rc1,a4,Bc5,Bxc5,Rxc5,a3,b3,Rab8,Rcc7,Rxb7,Rxb7,Rc8,Rxb4,Rc2+,Kf1,Rxa2,d6,Ra1+,Ke2,Ra2+,Kd3,Rb2,d7,a2,d8=Q+,Kg7,Qe7+,Kh6,Qf7,a1=Q', 'Qf8+,Kg5,h4#', 'https://lichess.org/training/sG75A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SG7it', 'Blitz', 'Urgenz', 2133, 'RichardPrime', 2090, 'c4,e5,g3,Nc6,Bg2,f5,Nc3,Nf6,e3,Bb4,Nd5,O-O,Nxb4,Nxb4,a3,Nd3+,Kf1,Ng4,Nh3,d6,f3,Nf6,Qc2,e4,Nf4,Ne5,fxe4,fxe4,Bxe4,Nxe4,Qxe4,g5,d4,Ng4,Qd5+,Kh8,h3,Nf6,Qxg5,Rg8,Qh4,Qf8,Ke2,Qg7,g4,Ne4,Bd2,c5,Bc3,Nxc3+,bxc3,b6,Rhf1,Ba6,Kd3,b5,Ne6,Qg6+,Kd2,Qxe6,Rf6,Qe4,Raf1,bxc4,Rf7,Rae8', 'Qf6+,Rg7,Qxg7#', 'https://lichess.org/training/SG7it');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sg9CD', 'Rapid', 'chessmaster1984', 1914, 'dmieter', 1946, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,Be7,e3,b6,Bd3,Bb7,Nf3,Ng4,Bxe7,Qxe7,h3,Nf6,Ne5,d6,Qa4+,Nbd7,Nf3,O-O,b4,a6,Qc2,h6,O-O,Bxf3,gxf3,Qf7,Kh2,Qh5,Rg1,Qxf3,Rg3,Qh5,Rag1,g5,Be2,Qf7,f4,Nh7,d5,e5,fxg5,hxg5,Rxg5+,Nxg5,Rxg5+,Kh7,Bh5,Qe7,Qg2,Nf6,Rxf5,Rg8,Qc2,Kh6,Bf3,Qg7,Qf2,Qg6', 'Qh4+,Kg7,Rg5', 'https://lichess.org/training/Sg9CD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGA8y', 'Rapid', 'boos2016', 2153, 'paximi', 2206, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,a3,Ngxe5,Nxe5,Nxe5,e4,a5,Be2,Bc5,O-O,O-O,Nc3,Ra6,Qd5,Qe7,Kh1,Rg6,f4,Rh6,Qxe5', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/SGA8y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sGbeK', 'Rapid', 'Vladimir_Shpak', 1917, 'BruceG', 1946, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nc3,e5,dxe5,Qxd1+,Nxd1,Ne4,Bd3,Nc5,Bc2,Nc6,f4,Nd4,Ne3,Nxc2+,Nxc2,Bf5,Ne3,Be4,Nf3,Nd3+,Ke2,Nxf4+,Kf2,Nd3+,Kg3,O-O-O,Ng5,Bg6,e6,Bd6+,Kf3,fxe6,Nxe6,Rde8,Nxg7,Rhf8+,Ke2,Rf2+,Kd1,Nxb2+,Bxb2,Rxe3,Bd4,Bb4,Bxe3', 'Bc2+,Kc1,Ba3#', 'https://lichess.org/training/sGbeK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SgBRD', 'Blitz', 'CM sanshiro', 2401, 'cazadordepollos', 2266, 'Nf3,e6,c4,b6,Nc3,Bb7,e3,d6,d4,Nf6,Bd3,Nbd7,O-O,a6,e4,Be7,e5,dxe5,dxe5,Bxf3,Qxf3,Nxe5,Qg3,Qxd3,Qxe5,Bd6,Qe3,Qxc4,b3,Qh4,g3,Qh3,Qf3,O-O,Bb2,Rad8,Rad1,Be5,Rfe1,Rxd1,Rxd1,Ng4,Qg2,Qh5,h3,Nf6,g4,Qg5,Bc1,Qg6,Ne2,Qc2,Rd2,Qb1,Qf1,Ne4,Rd7,f5,Ba3,Qxf1+,Kxf1,c5,f4,Bd4', 'Nxd4,cxd4,Bxf8', 'https://lichess.org/training/SgBRD');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 31;
-    }
-
-}
\ No newline at end of file
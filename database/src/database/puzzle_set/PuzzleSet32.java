@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet32 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SgbvU', 'Rapid', 'Quetzalc', 1624, 'peku1', 1607, 'Nf3,c5,c4,Nc6,Nc3,Nf6,d3,e6,g3,b6,Bg2,Bb7,Ne5,Qc7,Nxc6,Bxc6,Bxc6,Qxc6,O-O,Bd6,Nb5,O-O,Nxd6,Qxd6,Bf4,Qd4,Qd2,Ng4,e3,Qf6,d4,Rad8,h3,Nh6,Be5,Qg6,dxc5,bxc5,Bd6,Rfe8,Bxc5,Rc8,Qxd7,f6,Qxa7,Qc2,b3,Nf5,Rfc1,Qe2,Bb4,Qh5,Kg2,Rcd8,Rd1', 'Rxd1,Rxd1,Qxd1', 'https://lichess.org/training/SgbvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGCco', 'Rapid', 'Mandru', 2065, 'Avatar-X', 2052, 'e4,e6,d4,Ne7,c4,f5,exf5,Nxf5,Bd3,Bb4+,Nc3,O-O,Nf3,Nc6,Be3,a6,O-O,b6,a3,Be7,d5,Na7,Bxf5,exf5,Bd4,d6,Re1,Bf6,Qd3,b5,b3,Bd7,Re2,bxc4,bxc4,Nc8,Rae1,Nb6,Bxf6,Qxf6,Nd4,f4,f3,Qh6,Ne6,Rf6,Nxc7,Rc8,Ne8,Rg6,c5,Na4,c6,Bh3,Qxa6,Nxc3,c7,Nxe2+,Rxe2,Qh5,Nxd6,Qxd5', 'Qxc8+,Bxc8,Re8#', 'https://lichess.org/training/SGCco');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgchN', 'Classical', 'Kaidash', 1800, 'wardsstone', 1870, 'Nf3,Nf6,d4,g6,c4,c6,Nc3,d5,e3,Bg7,cxd5,cxd5,Qa4+,Bd7,Qb3,Bc6,Bb5,O-O,O-O,Nbd7,Ne5,Rb8,Qa4,Bxb5,Qxb5,a6,Qb3,e6,a4,Nxe5,dxe5,Nd7,f4,Qa5,Bd2,Qb6,Qc2,Rbc8,Rac1,Qa7,b4,d4,exd4,Qxd4+,Kh1,Rc7,Nb5', 'Rxc2,Nxd4,Rxd2', 'https://lichess.org/training/sgchN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sgd5X', 'Rapid', 'donbeire', 1852, 'mousaie1337', 1844, 'e4,g6,f4,d6,Nf3,Bg7,Nc3,c6,Bc4,b5,Bb3,a5,a4,b4,Ne2,Na6,c3,Nc5,d4,Nxe4,d5,bxc3,bxc3,Nxc3,Nxc3,Bxc3+,Bd2,Bxa1,Qxa1,Nf6,dxc6,O-O,O-O,Qb6+,Nd4,Ba6,Rf3,Be2,Rg3,Ne4,Qb1,Nxd2', 'Bxf7+,Rxf7,Qxb6', 'https://lichess.org/training/Sgd5X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sGDn4', 'Classical', 'BERNARDOGIL', 1938, 'ardalanat', 1860, 'Nf3,e6,g3,d5,Bg2,Nc6,O-O,Nf6,d3,Be7,Nbd2,O-O,e4,d4,Ne1,e5,f4,Ng4,Nc4,b5,Bf3,Nxh2,Nxe5,Nxe5,Kxh2,Nc6,f5,Bd6,Kg2,g6,e5,Nxe5,Bxa8,Bxf5,Be4,Be6,Nf3,f5,Nxe5,Bxe5,Bf3,Qd6,g4,Bh2,Qe1,fxg4,Be4,Rxf1,Kxf1,g3,Bg2,Bd5,Bxd5+,Qxd5,Qe4,Qf7+,Qf4', 'g2+,Kxg2,Bxf4', 'https://lichess.org/training/sGDn4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgDqs', 'Blitz', 'space_oddity', 1732, 'audi-razborka', 1862, 'e4,c5,Nf3,Nc6,c3,d6,Bb5,Nf6,d3,Bd7,Bg5,e5,Nbd2,Be7,Nc4,O-O,Bxf6,Bxf6,Nxd6,Qe7,Nc4,a6,Bxc6,Bxc6,O-O,b5,Na5,Bd7,Nb3,c4,dxc4,bxc4,Nbd2,Bb5,a4,Bc6,Qe2,Rab8,Nxc4,Rfc8,Qc2,Ba8,b3,Qb7,Nd6,Qc7,Nxc8,Rxc8,c4,Qd7,Rfd1,Qe7,Rd2,h6,Rad1,Bg5,Nxg5,Qxg5,f4,exf4,c5,f3,Rf2,fxg2,Rxg2,Qf4,Qc3,g6,Qc4,Bxe4,Rf1,Qe3+,Rgf2', 'Qg5+,Rg2,Qxg2#', 'https://lichess.org/training/sgDqs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sge1T', 'Blitz', 'm9ra', 1960, 'palofumeque', 1928, 'd4,d5,Bf4,c6,e3,Bf5,Nf3,e6,c4,Nf6,Nc3,Bb4,Qb3,Bxc3+,Qxc3,O-O,Qb3,b6,cxd5,cxd5,Rc1,Nbd7,Bd6,Re8,Bb5,a6,Bc6,Rc8,O-O,Ne4,Bg3,Bg4,Ne5,Nxe5,Bxe8,Qxe8,Bxe5,Nd2,Qxb6,Nxf1,Rxf1,h6,Qxa6,Rc2,Qa3,Qb5,Qa8+,Kh7,a4', 'Qxf1+,Kxf1,Rc1#', 'https://lichess.org/training/Sge1T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGe9e', 'Rapid', 'glebdius', 1792, 'R_Delgado', 1743, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,e5,Nc6,Qc3,dxe5,Nxe5', 'Bb4,Nxc6,Bxc3+', 'https://lichess.org/training/SGe9e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGeML', 'Blitz', 'amdd', 2424, 'NM chessiah', 2459, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Nc6,h3,g6,Qc2,Bg7,Nf3,O-O,O-O,b6,Re1,Bb7,Bf4,Rc8,Qd1,Na5,Nbd2,a6,Ne5,Ne8,Qg4,e6,Bg5,Bf6,Ndf3,Nc4,Re2,Kg7,Qh4,Bxg5,Nxg5,h6,Nexf7,hxg5,Qh6+,Kxf7', 'Qxg6+,Ke7,Qxe6#', 'https://lichess.org/training/SGeML');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sGhuY', 'Blitz', 'zullolucandres', 1806, 'Blaufoxj', 1989, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c4,e6,h3,Nf6,Bg5,Be7,c5,b6,Bb5,Bd7,Bxc6,Bxc6,b4,bxc5,bxc5,Ne4,Bxe7,Qxe7,Nbd2,g5,Nxe4,dxe4,Ne5,Bb5,Rb1,Bd7,c6,Bc8,Qa4,O-O,O-O,h5,Rfc1,Kg7,c7,g4,hxg4,hxg4,Rb8,Rh8,Rxa8', 'Qh4,Kf1,Qh1+,Ke2,Qxc1', 'https://lichess.org/training/sGhuY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGiDv', 'Rapid', 'Adyga', 1870, 'Furkan2634', 1865, 'e4,c5,f4,Nc6,Nf3,e6,Bb5,Nge7,O-O,d5,e5,a6,Bxc6+,Nxc6,Kh1,Be7,d4,O-O,Nc3,f6,Ne2,cxd4,Nexd4,fxe5,fxe5,Bc5,Bg5,Qb6,Nb3,Be7,Bxe7,Nxe7,Qd3,Bd7,Nbd4,Ng6,a4,Rf4,c3,Rc8,Ng5,Rxf1+,Rxf1,Qxb2,Ngxe6,Qxc3,Qf5,Rf8', 'Qxf8+,Nxf8,Rxf8#', 'https://lichess.org/training/SGiDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sGIH0', 'Rapid', 'Fullbasket', 1755, 'Skazkin-bluz', 1764, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Nd5,Nxd5,exd5,d6,c3,Ba5,b4,Bb6,a4,a5,b5,Bg4,Bc4,O-O,h3,Bh5,d3,Re8,O-O,Qf6,g4,Qg6,Nh4,Qf6,Nf3,Bg6', 'Bg5,Qxf3,Qxf3', 'https://lichess.org/training/sGIH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgiNy', 'Rapid', 'paulocesar85', 1692, 'kumargsbelur', 1632, 'e4,e5,d4,d6,dxe5,dxe5,Bd3,Nc6,Nf3,Nf6,Bg5,Be7,Nc3,O-O,Bxf6,Bxf6,Nd5,Nd4,Nxf6+,Qxf6,Nxd4,exd4,c4,c5,O-O,Re8,f4,b6,Qh5,Qg6,Qd5,Be6,Qc6,Bh3', 'Qxg6,hxg6,gxh3', 'https://lichess.org/training/sgiNy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sGj5l', 'Blitz', 'sasha_1975', 2112, 'materj', 1695, 'c4,e6,Nc3,d5,d4,dxc4,e3,Nc6,a3,Bd6,Bxc4,Qe7,Nf3,Bd7,O-O,O-O-O,e4,Kb8,e5,Bxe5,dxe5,f6,exf6,Nxf6,Qe2,Bc8,Bg5,h6,Bh4,g5,Bg3,g4,Ne5,Nxe5,Bxe5,Nd7,Bxh8,Rxh8,Qxe6,Qg5,Qe2,h5,Ne4,Qe5,Qc2,h4,Rfe1,g3,fxg3,hxg3,h3,Qd4+,Kh1,Ne5,Nxg3,Bxh3,gxh3,Rxh3+,Kg2,Rxg3+,Kxg3,Qg4+,Kh2', 'Nf3+,Kh1,Qh3+,Qh2,Qxh2#', 'https://lichess.org/training/sGj5l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGk9M', 'Rapid', 'silvavelosa', 1624, 'bazell23', 1638, 'd4,d5,c4,e5,dxe5,d4,Nf3,Bb4+,Bd2,Bc5,b4,Be7,Bf4,Bxb4+,Bd2,Bc5,Qa4+,Bd7,Qb3,b6,Na3,Nc6,Nb5,Bg4,Bg5,f6,exf6,Nxf6,Rd1,Bxf3,Qxf3,Qd7,Bf4,O-O,Nxc7,Rac8,Nd5,Nxd5,cxd5,Rxf4,Qxf4,Ne5,Qxe5', 'Bb4+,Rd2,Rc1#', 'https://lichess.org/training/SGk9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sGkss', 'Rapid', 'elsobry2', 1655, 'tiuan', 1657, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,d4,Nxe4,Qe2,Qe7,Qxe4,d5,Qxd5,f6,Bb5,fxe5,dxe5,Bd7,O-O,O-O-O,Nc3,Bf5,Qb3,Nxe5,Re1', 'Nf3+,gxf3,Qxe1+', 'https://lichess.org/training/sGkss');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGkyH', 'Rapid', 'eymbrcens15', 1799, 'leod99', 1628, 'e4,e5,Nf3,d6,Nc3,Nf6,d4,Nc6,d5,Nb4,a3,Na6,Bb5+,c6,Bc4,Nc5,Qe2,Bg4,h3,Bxf3,Qxf3,b5,Bb3,Nxb3,cxb3,Be7,Qg3,cxd5,Nxd5,Nxe4,Qxg7,Rf8,Bh6,Bg5,Qxf8+,Kd7,Qxf7+,Kc6,Nb4+,Kb6,Bxg5,Nxg5,Qd5,Rc8,O-O,a5,Nd3,e4,Qd4+,Kb7,Nf4,Qg8,Rac1', 'Nf3+,Kh1,Nxd4', 'https://lichess.org/training/SGkyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sglc9', 'Blitz', 'Artof', 1791, 'Angelitoreyes', 1823, 'f4,d5,Nf3,Nf6,e3,e6,Bd3,c5,b3,Nc6,O-O,a6,a4,Bd6,Na3,O-O,Bb2,Rb8,c4,Na7,Rb1,Bd7,cxd5,exd5,Ne5,Be8,Rc1,b5,Bb1,c4,Qc2,g6,Rf3,b4,Nexc4,bxa3,Nxa3,Ne4,d3,Rc8,Qe2,Rxc1+,Bxc1,Nc3,Qd2,Nxb1,Nxb1,Be7,Bb2,Nc6,f5,Bb4,Qe2,a5,fxg6,fxg6,Rxf8+,Bxf8,Na3,Bf7,Nb5,d4,Nxd4,Nxd4,Bxd4,Bxb3,Qb2,Bxa4', 'Qa2+,Bb3,Qxb3+,Qd5,Qxd5#', 'https://lichess.org/training/sglc9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sglyB', 'Classical', 'dontask2undo2', 1744, 'Aquamarin', 1777, 'Nf3,d5,b4,Nf6,Bb2,e6,b5,Bd6,e3,Bd7,c4,c6,a4,O-O,Qc2,Qc7,c5,Be7,Ng5,h6', 'Bxf6,hxg5,Bxe7', 'https://lichess.org/training/sglyB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgoee', 'Rapid', 'CristianIca16', 2122, 'Anilshivpuri', 2199, 'd4,Nf6,Nf3,d5,c4,Bf5,Qb3,b6,Nc3,e6,Bg5,Nbd7,e3,Be7,Be2,dxc4,Bxc4,O-O,O-O,h6,Bh4,Ne4,Bxe7,Qxe7,Rac1,c6,Bd3,Nxc3,Rxc3,Bxd3,Rxd3,e5,dxe5,Nc5,Qa3,f6,exf6,Rxf6,Rfd1,Rxf3,gxf3,Qg5+,Kf1,Nxd3,Qxd3,Rf8,Qc4+,Kh8,Qxc6,Qe5,Qd6,Qb5+,Kg2,Rf6,Qb8+,Kh7,Qxa7,Rg6+,Kh1,Qe2,Qd7', 'Qxf3#', 'https://lichess.org/training/sgoee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sGoTZ', 'Rapid', 'Ritesh151', 1872, 'SSharma007', 1679, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,a6,Bg5,Be7,Qe2,O-O,Qc4,b5,Qd3,Nc6,Rd1,Nb4,Qd2,Bb7,a3,Nc6,Bxf6,Bxf6,Qxd6,Qxd6,Rxd6,Rad8,Rxd8,Rxd8,Bd3,Nd4,Nxd4,Rxd4,O-O,Bg5,Ne2,Ra4,f3,Be3+,Kh1,b4,axb4,Rxb4,b3,a5,Nc3,Bd4,Nd5,Bxd5,exd5,Kf8,Rc1,a4,c3,Bxc3,Rxc3,axb3,Bb1,b2,d6,Ke8,Kg1,Rd4,Bc2', 'Rd1+,Bxd1,b1=Q', 'https://lichess.org/training/sGoTZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgpcX', 'Rapid', 'Jaberjbeerat2020', 1934, 'SandyFrost', 1955, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,bxc6,O-O,d6,d4,Be7,Bg5,Nxe4,Bxe7,Qxe7,dxe5,O-O,exd6,Nxd6,Re1,Qf6,Nc3,Bg4,Qd4,Qxd4,Nxd4,c5,Nc6,Rfe8,Re7,Rxe7,Nxe7+,Kf8,Nc6,Re8,Nd5,Nc4,Nxc7', 'Rc8,Nxa7,Rxc7', 'https://lichess.org/training/sgpcX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGPII', 'Blitz', 'Moreno08', 1571, 'biba13', 1562, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Ne5,Nf6,h4,Qc7,d4,Be4,Nxe4,Nxe4,Bc4,e6,Qf3,Nd6,Bb3,Be7,c4,Nd7,Bf4,Nxe5,Bxe5,Qa5+,Ke2,Nf5,g4,Qxe5+,dxe5,Nd4+,Ke3,Nxf3,Kxf3,O-O-O,Ke2,Bc5,Rad1,h6,a3,Rd7,Rxd7,Kxd7,Rd1+,Ke7,Bc2,Rd8,b4,Rxd1,Bxd1,Bb6,c5,Bc7,Bc2,Bxe5,Be4,Bb2,a4,b6,cxb6,axb6,Bxc6,Kd6,Be8,f5,gxf5,exf5,Bg6,f4,Kf3,Ke5,a5,bxa5,bxa5,Bd4,a6,Kf6,Be4,Ke5,Bb7,g5,hxg5,hxg5,Be4', 'g4+,Kxg4,Kxe4,f3+,Ke3', 'https://lichess.org/training/SGPII');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGr3t', 'Rapid', 'manuelben', 1822, 'MaxVerstappen33', 1789, 'd4,Nf6,c4,h6,Nc3,g6,Nf3,d6,g3,Bg7,Bg2,O-O,O-O,c6,Qc2,Bf5,e4,Bg4,h3,Bxf3,Bxf3,Nbd7,Ne2,Nh7,h4,e5,Rd1,c5,dxc5,Nxc5,b4,Ne6,c5,Nd4,Nxd4,exd4,Bb2,dxc5,bxc5,b6,cxb6,Qxb6,Qd2,Rfd8,e5,Rac8,Bxd4,Qe6,Qe3,a6,Bb7,Rc7,Bb6', 'Rxd1+,Rxd1,Rxb7', 'https://lichess.org/training/SGr3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sGRBx', 'Classical', 'DrNYkerstein2', 1964, 'Haris1234', 2002, 'e4,c5,Nf3,Nc6,b4,cxb4,d4,e6,d5,exd5,exd5,Qf6,c3,Nd8,Bg5,Qb6,Bd3,Be7,Be3,Qd6,Bc4,Nf6,O-O,O-O,Nd4,Nxd5,Nf5,Nxe3,fxe3,Qxd1', 'Nxe7+,Kh8,Rxd1', 'https://lichess.org/training/sGRBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgRFD', 'Classical', 'VaanGogh', 1790, 'kuba1510', 1867, 'e4,d6,Nf3,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,d4,Nxe4,Bxf7+,Rxf7,Nxe4,Bg4,Be3,Bxf3,gxf3,e5,dxe5,Bxe5,f4,Bxf4,Bxf4,Rxf4,Qd5+,Kf8,Qxb7,Nd7,Ng3,Ne5,Qd5,c6,Qg2,Qh4,f3,Kg7,Rae1,Raf8,Re4,Nc4,Qe2,Rxe4,fxe4,Rxf1+,Qxf1,Ne3,Qf2,Ng4', 'Nf5+,gxf5,Qxh4', 'https://lichess.org/training/sgRFD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SgRfQ', 'Rapid', 'amar0', 1911, 'Ali-sobhi', 1988, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Qe2,Be7,Bg5,b6,O-O-O,a5,Ne5,Bb7,Nxd7,Nxd7,Bxe7,Qxe7,h4,a4,a3,Ba6,Qg4,O-O,Bd3,h6,h5,Nf6,Nxf6+,Qxf6,f3,Rfc8,Bxa6,Rxa6,Qe4,c5,d5,exd5,Rxd5,b5,Rhd1,Raa8,Rf5,Qc6', 'Rd8+,Rxd8,Qxc6', 'https://lichess.org/training/SgRfQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SgRoG', 'Rapid', 'KarmaSonamBT', 2206, 'kvant19', 1835, 'e4,e5,Nf3,d6,c3,Bg4,d4,exd4,cxd4,Nf6,Bd3,Be7,Nc3,Nc6,Be3,O-O,a3,d5,e5,Ne4,h3,Nxc3,bxc3,Bh5,g4,Bg6,O-O,Be4,Kh2,f5,gxf5,Bxf5,Bxf5,Rxf5,Rg1,Qd7,Bh6,Bf8,Qe2', 'Rh5,Rg3,Rxh6', 'https://lichess.org/training/SgRoG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgrzY', 'Classical', 'Pablosilas2001', 1712, 'bloomygreen', 1650, 'e4,b6,Nf3,Bb7,d3,d5,e5,d4,b3,Qd5,Bb2,c5,c4,Qe6,Nbd2,Nd7,Be2,Nxe5,O-O,h6,Nxe5,Qxe5,Bf3,Qc7,Re1,h5,Bxh5,g6,Bf3,Qxh2+,Kf1,Bxf3,Nxf3,Qh1+,Ke2,Qxg2,Kd2,Qxf2+,Qe2,Bh6+,Kc2,Qxe2+,Rxe2,f6,Rae1,a5,Re6,Rb8,Nh4,g5,Nf5,Rb7', 'Nd6+,Kd7,Nxb7', 'https://lichess.org/training/sgrzY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGS8B', 'Rapid', 'pedrogil', 1858, 'yoni45', 1816, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Nc3,Nf6,Bg5,h6,Bh4,Ne5,Qe2,Ng6,Bg3,d6,O-O-O,Be6,f3,a5,Na4,Qd7,Nxb6,cxb6,Qb5,a4,Rxd6,Qxb5,Bxb5+,Ke7,Nd4,Bxa2,Nf5+,Kf8,Rhd1,Kg8,Rd8+,Rxd8,Rxd8+,Kh7,Rxh8+,Kxh8,Bxa4,Be6,Nd4,Bc4,Bf2,Bf1,g3,Bg2,Kd2,Ne5,f4,Nxe4+,Ke1,Nc4,b3,Ncd2,Be3,Nf3+,Nxf3,Bxf3,Bxb6,Nc3,Be8,Be4,Kd2,Nd5,Bd4,Kg8,c4,Nc7,Bd7,Bc6,Bxc6,bxc6,Ke3,Ne6,b4,Kf8,Ke4,Ke7,b5,cxb5,cxb5,Kd6,h4,f5+,Kd3,Kd5,b6', 'Nxd4,b7,Nc6', 'https://lichess.org/training/SGS8B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGSpK', 'Rapid', 'sergei29', 1756, 'kkgamer', 1721, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,O-O,Bd6,d4,Bg4,h3,Bxf3,Qxf3,exd4,Bg5,Be5,Re1,h6,Bxf6,Bxf6,e5,Be7,Nd2,O-O,Rad1,Bb4,c3,dxc3,bxc3,Bc5,Ne4,Qe7,Qg3,Rad8,Rd3,Rxd3,Qxd3,Qxe5,Qg3,Qxg3,Nxg3,g6,Ne4,Bd6,c4,b6,a4,Kg7,Ra1,Re8,f3,f5,Nf2,Bg3,Nd3,c5,a5,Re3,Ra3,Kf6,axb6,axb6,Kf1,Ke6', 'Nxc5+,bxc5,Rxe3+', 'https://lichess.org/training/SGSpK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgTFo', 'Rapid', 'ciladuxa', 1907, 'mor1stef', 1874, 'e4,c5,Nf3,d6,Nc3,Nf6,d3,e6,Bg5,Be7,Be2,Nc6,a3,O-O,O-O,a6,h3,b5,Re1,b4,axb4,cxb4,Na4,Bb7,c4,e5,b3,a5,Be3,Nd7,d4,exd4,Nxd4,Nxd4,Bxd4,Nc5,f3,Qc7,Qc2,Rac8,Qb2,f6,Qa2,Ne6,Bb6,Qc6,Bxa5,Ra8,Bxb4,Nc5,Qc2,Nxa4,Rxa4,Qb6+,c5,dxc5,Rxa8,Rxa8,Bc3,c4+,Kh1,cxb3,Qd2,Ra2,Qd3,b2', 'Qc4+,Kh8,Qxa2', 'https://lichess.org/training/sgTFo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgU2i', 'Blitz', 'rarate', 1583, 'Mondong0', 1613, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,Nf6,e5,Qe7,O-O,Nxe5,Nxe5,Qxe5,Re1,Ne4,b4,Bd6,f4,Qf5,Qe2,dxc3,Qxe4+,Qxe4,Rxe4+,Kf8,Nxc3,Bxb4,Nd5,Bd6,Bb2,c6,Nc3,Bc5+,Kh1,d5,Re5,Bd4,Re2,Bxc3,Bxc3,dxc4', 'Bb4+,c5,Bxc5+,Kg8,Re8#', 'https://lichess.org/training/sgU2i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGUuc', 'Rapid', 'Traxoker', 1694, 'AO-999', 1710, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Nc3,h6,Bxc6,bxc6,dxe5,Be7,exd6,cxd6,Bf4,Be6,Qd2,Nf6,O-O-O,O-O,Bxd6,Bxd6,Qxd6,Qb6,Qd4,Qb7,e5,Nd5,Nd2,Rab8,Nxd5,cxd5,Nb3,Qb5,Rd2,a5,Nc5,Rfc8,Nxe6,fxe6,Rhd1', 'Rc4,b3,Rxd4', 'https://lichess.org/training/SGUuc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SGUva', 'Rapid', 'paulogaspar', 2052, 'Cosine180', 2283, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,c3,Nf6,d3,g6,Bg5,Bg7,Nbd2,O-O,Nc4,b5,Ne3,a5,Bxf6,exf6,Nd5,Rab8,h3,f5,Re1,Rfe8,Qd2,fxe4,dxe4,b4,Nh2,Kh8,Ng4,Re6,f4,h5,Nf2,Rbe8,f5,gxf5,exf5,Rxe1+,Rxe1,Rxe1+,Qxe1,Ne5,f6,Bh6,Qe4,Qb7,c4,Qd7,b3,a4,Nh1,axb3,axb3,Qa7,Ng3,Qa1+,Kh2,Qd1,Nf5,Bg5,Nde7,Bxf6', 'Qa8+,Kh7,Qg8#', 'https://lichess.org/training/SGUva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgWh5', 'Blitz', 'FM Oscar-i', 2251, 'jubar13', 2070, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nb6,Nc3,g6,Nf3,Bg7,Bd3,O-O,Bg5,Bg4,d5,h6,Be3,N8d7,Qd2,Bxf3,gxf3,Kh7,O-O-O,Ne5,Be2,Nbc4,Bxc4,Nxc4,Qe2,Nxe3,fxe3,Bxc3,bxc3,Qd6,Qb2,b5,Kb1,b4,c4,a5,Qd4,a4,c5,Qa6,h4,b3,a3,Qe2,Qd2,Qxf3,Qd3,Qg2,Qd2,Qxe4+,Qd3,Qxd3+,Rxd3,Ra5,Rc1,Rd8,Kb2,Kg7,e4,Kf6,Rf3+,Ke5,Rxf7,Kxe4,Rxe7+,Kf5,Rf7+,Kg4,Rg7,Rxd5,Rxg6+,Kh5,Rg2,Raxc5,Rf1,Rc4,Rf7,c5,Rgf2,Kxh4,R7f4+,Rxf4,Rxf4+,Kg3,Rxa4,Rd4,Rxd4,cxd4,a4,Kf4,a5,Ke3,a6,d3,a7,d2,a8=Q,d1=Q,Qe8+,Kf3', 'Qh5+,Kf4,Qxd1', 'https://lichess.org/training/sgWh5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgXkA', 'Classical', 'Captain_Kill', 2052, 'Annuex', 1660, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,Be7,Nf3,h6,e5,c6,Bd3,Nd7,O-O,b5,a3,a6,Qe2,Nb6,Nd2,Nd5,Ne4,O-O,f4,f5,exf6,Nxf6,Nxf6+,Bxf6,Qe4,Kf7,Qxc6,Bd7,Qe4,Ke7,f5,Rc8,fxe6,Bc6,Qe2,Bxd4+,cxd4,Rxf1+,Qxf1,Qxd4+,Kh1,Qxa1', 'Bg5+,Qf6,Bxf6+', 'https://lichess.org/training/sgXkA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SgXrJ', 'Rapid', 'Dmytro123', 1975, 'sasanii', 1869, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,d4,Bd7,Bxc6,Bxc6,dxe5,dxe5,Qe2,Bd6,Rd1,h6,Nc3,Qe7,Nd5,Bxd5,exd5,O-O,Qb5,Rab8,Be3,b6,Re1,Qd7,Qa6,Nxd5,Bd2,Rfe8,Rad1,Qf5,Qc4,Nf6,Bc3,Qxc2,Rd2,Qf5,Rde2,Nd7,Qa6,Nc5,Qb5,Qd7,Qc4,Qa4,Qd5,Nd7,Bxe5,Nf6,Bxf6,Rxe2,Rxe2,gxf6,a3,Rd8,Qh5,Kg7,Nd2,Qd1+,Nf1,Re8', 'Qg4+,Kf8,Rxe8+,Kxe8,Qxd1', 'https://lichess.org/training/SgXrJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgyf8', 'Rapid', 'rosejone68', 1949, 'ChessExplained1', 1972, 'g4,e5,Bg2,d5,c4,c6,Qb3,dxc4,Qxc4,Be6,Qa4,Nd7,Nc3,Bc5,Nf3,Qb6,O-O,Ngf6,g5,Nd5,Ne4,Nf4,Nc3,O-O,Rb1,f6,h4,Rae8,d3,fxg5,hxg5,Bh3,Bxh3,Nxh3+,Kg2,Nxf2,b4,Bd4,Qb3+,Kh8,Na4,Qc7,Rxf2,Bxf2,Kxf2,e4,dxe4,Rxe4,Qd3,Qh2+,Ke1,Qg3+,Kd2', 'Rxe2+,Qxe2,Rxf3,Rb3,Qf4+,Kc2,Qf5+', 'https://lichess.org/training/sgyf8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SgZoD', 'Rapid', 'Rossfresser', 1772, 'angomo2', 1974, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qd2,Be7,Be2,Qc7,f4,b5,Bf3,Bb7,O-O-O,Nc6,e5,dxe5,Nxc6,Bxc6,fxe5,Rd8,Bxc6+,Qxc6,Qe2,Nd5,Bxe7,Kxe7,Ne4,Rc8,Nd6,Rc7,Kb1,Rd8,Rc1,f6,Ne4,fxe5,Rhf1,Rf8,Rxf8,Kxf8,Ng5,Kg8,Qxe5,Re7,Rd1,h6,Nf3,Rd7,Qb8+,Kh7,Ne5', 'Nc3+,bxc3,Rxd1+', 'https://lichess.org/training/SgZoD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sgzpa', 'Blitz', 'Behemoth3', 1637, 'Luis210', 1695, 'd4,d5,Nf3,Nf6,Bf4,c5,c3,Qb6,Qc2,g6,e3,Bf5,Qc1,Nh5,Be5,f6,Bxb8,Rxb8,Be2,e5,dxe5,fxe5,Nxe5,Bg7,Nf3,Nf6,O-O,O-O,Nbd2,Rfe8,Re1,Rbc8,b3,Ne4,Nxe4,Bxe4,Ng5,Bf5,Qd2,Rcd8,Bd3,Bxd3,Qxd3,Qf6,Nf3,Qxc3,Qb5,Qb4,Qd3,Bxa1,Rxa1,c4,bxc4,Qxc4,Qb1,Rc8,h3,Qc2,Qxb7,Rb8,Qxa7,Rb2,Qd7', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/sgzpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SH6CT', 'Blitz', 'Piksi69', 2515, 'GM rim1618', 2589, 'd4,Nf6,Nf3,d6,Nc3,Bf5,Nh4,Bg6,Nxg6,hxg6,g3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg2,c6,h3,Kc7,Be3,Nbd7,O-O-O,Bc5,Bxc5,Nxc5,e3,Rad8,Rxd8,Rxd8,b4,Ne6,a3,a5,Rd1,Ra8,Kb2,axb4,axb4,Rh8,Na4,Nd7,c4,Ra8', 'Rxd7+,Kxd7,Nb6+,Kd8,Nxa8', 'https://lichess.org/training/SH6CT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sh8in', 'Rapid', 'HovikV', 1758, 'Matirow2010', 1754, 'd4,d5,c4,e6,Nc3,Nf6,e3,Bb4,Nf3,Nc6,a3,Bxc3+,bxc3,Bd7,c5,O-O,Bd3,h6,O-O,Re8,c4,Rb8,cxd5,exd5,Qc2,a6,Bb2,Ne4,Nd2,Nxd2,Qxd2,Qf6,Qc2,Rbd8,e4,dxe4,Bxe4,Qe7,Rfe1,f5', 'Bd5+,Kh7,Rxe7', 'https://lichess.org/training/sh8in');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SH8kc', 'Rapid', 'Mecameca', 1841, 'moazzezifarhadifar', 1922, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Nf6,d4,exd4,cxd4,Bb4,a3,Ba5,e5,dxe5,d5,e4,Ng5,Ne5,Bb5+,Bd7,Bxd7+,Qxd7,Bf4,Nd3,Bc1,Qxd5,Qe2,Nxc1,Rxc1,Qxg5,Nc3,Bxc3,Rxc3,O-O-O,Rac1,c6,b4,Rd2,Qf1,Nd5,Rg3,Qe5,b5,Nf4,bxc6,Ne2+,Kh1,Nxg3+,fxg3,Rhd8,cxb7+,Kxb7,Qxf7+,R8d7', 'Qb3+,Ka6,Rc6+,Ka5,Qb4#', 'https://lichess.org/training/SH8kc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ShA6I', 'Rapid', 'Insacrificabile', 1827, 'Rad1', 1928, 'Nf3,b6,g3,Bb7,Bg2,e6,O-O,d6,d3,Nf6,Nbd2,Be7,Re1,O-O,e4,Nbd7,h4,h6,Nf1,a5,N1h2,e5,Be3,c5,Qd2,d5,Bxh6,gxh6,Qxh6,Nh7,exd5,Bxd5,Nxe5,Nxe5,Rxe5,Bxg2,Kxg2,Qd6,Qh5,Qg6', 'Qxg6+,fxg6,Rxe7', 'https://lichess.org/training/ShA6I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('shbdE', 'Blitz', 'mohzekry', 2298, 'goodasyou', 2283, 'd4,a5,Bf4,b5,e3,b4,Nf3,Bb7,Be2,d6,O-O,Nd7,a3,bxa3,Nxa3,Ngf6,c4,h6,h3,g5,Bh2,g4,hxg4,Rg8,g5,hxg5,Rc1,Ng4,Bg3,Ndf6,c5,Ne4,Qa4+,c6,Ne5,Nxe5,d5,Nxg3,fxg3,Qd7,cxd6,exd6,dxc6,Bxc6,Bb5,Rc8,Qxa5,Be7,b4,Kf8,Qa6,Rh8,Bxc6,Rxc6,Rxc6,Nxc6,b5,Ne5,b6,d5,Nb5,Bc5,Nd4,Bxd4,exd4,Ng4,b7,Kg7,Qa8,Qd6,Qa7,Rh1+,Kxh1', 'Qh6+,Kg1,Qh2#', 'https://lichess.org/training/shbdE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SHC4m', 'Bullet', 'jandrieu', 1780, 'marcelino49', 1828, 'c4,Nf6,Nc3,c5,g3,Nc6,Bg2,d6,f4,g6,Nf3,Bg7,O-O,O-O,e4,e5,d3,Be6,h3,Qd7,Kh2,exf4,Bxf4,Nh5,Be3,Ne5,Nd5,f5,Ng5,Bxd5,exd5,Rfe8,Ne6,Bf6,g4,Ng7,gxf5,Nxf5,Qe2,Nf7,Be4,Be5+,Kg2,Ng3,Qf2,Nxf1,Rxf1,Nd8', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/SHC4m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Shd8T', 'Classical', 'ncg195', 1816, 'moradahmad', 1715, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,e5,Ne4,d4,Nxf2,Kxf2,Qh4+,g3,Qd8,Bc4,c5,Qh5', 'Qxd4+,Be3,Qxc4', 'https://lichess.org/training/Shd8T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SHDBA', 'Rapid', 'Malek87', 1928, 'Nightman1337', 1923, 'e4,e6,d3,d5,Nd2,dxe4,dxe4,Nf6,Ngf3,Be7,g3,Nc6,Bg2,O-O,O-O,b6,e5,Nd5,c4,Ndb4,a3,Nd3,Qa4,Bb7,Nb3,a5,Be3,Nxb2,Qb5,a4,Nbd4,Nxc4,Qxc4,Nxe5,Nxe5,Ba6,Qc6,Bxf1,Kxf1,Ra5,Nc4,Rc5,Qxa4,b5,Nxb5,Qd3+,Kg1,Rxc4,Qa5,Rc2,Qa4,Rc4,Qa5,Rc2,Nxc7,Bd8,Bb6,Bxc7,Bxc7,Rc8,Bf4,Rxf2,Kxf2', 'Rc2+,Bd2,Rxd2+,Qxd2,Qxd2+', 'https://lichess.org/training/SHDBA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sHdTj', 'Rapid', 'umutsk1', 1825, 'Bidium', 1694, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bc5,h3,Nd4,Bc4,d6,d3,h6,Be3,O-O,a3,Re8,Na4,b5,Nxc5,bxc4,Na4,Be6,Nxd4,exd4,Bxd4,cxd3,cxd3,c5,Be3,Rb8,O-O', 'Bb3,Qd2,Bxa4', 'https://lichess.org/training/sHdTj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sHdVZ', 'Rapid', 'attackmyqueen', 1835, 'iterjeki', 1808, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bg6,h4,e6,h5,Bxd3,Qxd3,c5,c3,Nc6,Be3,cxd4,cxd4,Nge7,h6,Nf5,Nf3,Nxe3,fxe3,gxh6,Nc3,Nb4,Qb5+,Nc6,Qxb7,Rc8,Qb3,Qc7,Rc1,Bb4,a3,Ba5,Kf2,Qe7,Ne2,Kd7,Nf4,Bb6,Nh5,Na5,Qb5+,Kd8,Rxc8+,Kxc8,Rc1+,Kb7,b4,Nc4,Qa4,Nb2,Qb3,Nc4,a4,Rc8,Nf6,Qf8,Rc2,Bd8,Nh5,f6,exf6,Bxf6,Nxf6,Qxf6,Qb1', 'Na3,Rxc8,Nxb1', 'https://lichess.org/training/sHdVZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ShExV', 'Rapid', 'cupboardsandcoffee', 1613, 'alexfalldorf', 1625, 'd4,c5,dxc5,Qa5+,Bd2,Qxc5,c4,Nf6,b4,Qc6,Nc3,g6,e3,Bg7,Qc2,d5,cxd5,Nxd5', 'Bb5,O-O,Bxc6', 'https://lichess.org/training/ShExV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sHfPD', 'Rapid', 'fun_33680', 1949, 'Oleg-Butenko', 2312, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Nc3,b5,Bb3,h6,d3,Bb4,O-O,Ne7,Nd5,Nfxd5,Bxd5,c6,Bxf7+,Kf8,Nxe5,Bd6,f4,Bb8,Qh5,d6,Ng6+,Nxg6,Qxg6,Qf6,f5,Qxf7,Bf4,Ba7+,Kh1,Qxg6,fxg6,Ke7,Bg3,Rf8', 'Bxd6+,Kxd6,Rxf8', 'https://lichess.org/training/sHfPD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sHfqq', 'Rapid', 'Badalonafreedom', 1832, 'Holylowy', 1879, 'd4,Nf6,Bf4,d6,e3,g6,Nf3,Bg7,Bd3,Nbd7,Nbd2,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Qd5,Nf3,Bg4,O-O', 'Bxf3,Qxf3,Qxe5', 'https://lichess.org/training/sHfqq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Shghb', 'Rapid', 'Rooka82', 1907, 'Nutcracker777', 2101, 'd4,d5,c4,e6,cxd5,exd5,Nc3,c6,Bf4,Bd6,Bxd6,Qxd6,e3,Nf6,Bd3,O-O,Nge2,Re8,Qc2,Bg4,h3,Be6,Nf4,Bd7,O-O-O,b5,g4,b4,g5,bxc3,gxf6,cxb2+,Kb1,Qxf6,Bxh7+,Kh8,Nh5,Qh6,Nxg7,Qxh7,Nxe8', 'Bf5,Kxb2,Bxc2', 'https://lichess.org/training/Shghb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sHGL9', 'Rapid', 'tjeckleburg', 1848, 'coferoya', 1820, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,a6,Bc4,Nf6,O-O,g6,Be3,Bg7,f3,O-O,Qd2,Nxd4,Bxd4,b5,Bb3,Bb7,a3,Nd7,Bxg7,Kxg7,Rad1,Kg8,Qg5,Qb6+,Kh1,Nf6,Ne2,b4,axb4,Qxb4,Nf4,a5,Ra1,Qd4,Nxg6,hxg6,Qxg6+,Kh8,Bxf7,Qd2,Rad1,Qf4,g3,Qe3,Rd3,Qe2,Rfd1,Rg8,Qh6+,Nh7,Bxg8,Rxg8,Qd2,Qxd2,R1xd2,Ng5,h4,Nxf3,Rxf3,Bxe4,Rf2', 'Rxg3,Kh2,Rxf3', 'https://lichess.org/training/sHGL9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sHGoT', 'Rapid', 'musahayri', 1741, 'zulalinho', 1685, 'e4,e5,Nf3,Nc6,d3,Nf6,c3,g6,Qc2,Bg7,Be2,O-O,a4,d5,Nbd2,d4,Nc4,Bg4,Nfxe5,Bxe2,Qxe2,dxc3,bxc3,a6,Nxc6,bxc6,Bd2,Qd7,d4,Rfe8,f3,Qe7,O-O,Nh5,Na5,Qe6,Rab1,Kf8,Nb3,Qf6,Nc5,Qh4,Rb7,Rec8,a5,Nf6,Nxa6,Bh6,Bxh6+,Qxh6,Rxc7,Nh5,Rxc8+,Rxc8,Nc5,Nf4,Qd2', 'Nh3+,gxh3,Qxd2', 'https://lichess.org/training/sHGoT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ShiHq', 'Blitz', 'IM Frutek', 2456, 'FM Ratbel', 2429, 'e4,e6,d4,c5,Nd2,cxd4,Ngf3,Nc6,Bc4,d5,exd5,exd5,Bb5,Bc5,O-O,Ne7,Nb3,Bb6,Nfxd4,O-O,Be3,h6,c3,Bd7,Re1', 'Nxd4,Nxd4,Bxd4,Qxd4,Bxb5', 'https://lichess.org/training/ShiHq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('shjNT', 'Rapid', 'gacek011', 1836, 'tarikk5', 1831, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,e6,Nf3,Nf6,d4,Be7,O-O,Nbd7,d5,Nxd5,Nxd5,exd5,Bxd5,Nf6,Bb3,O-O,Bg5,Qxd1,Raxd1,Bg4,Bxf6,Bxf6,c3,Rad8,Rxd8,Rxd8,Re1,g6,Ne5,Re8', 'Bxf7+,Kf8,Bxe8', 'https://lichess.org/training/shjNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SHjqa', 'Rapid', 'Nailed_again', 1791, 'nycuban', 1800, 'd4,d5,Bf4,Bf5,e3,Nf6,Bd3,Bg4,f3,Bh5,Nd2,e6,Qe2,h6,e4,dxe4,Nxe4,Nbd7,O-O-O,g5,Be5,Bg7,Nxf6+,Nxf6,g4,Bg6,Bxg6,fxg6,Qb5+,c6,Qxb7,O-O,Qxc6,Qd5,Qxd5,Nxd5,Bxg7,Kxg7,Rf1,Ne3,Rf2,Nxg4,Rd2,Ne3,h4,g4,Rhh2,gxf3,Rhf2,Nf5,Nxf3,Rad8,Rh2,Ng3,Rhf2,Ne4,Rfe2,Nxd2,Nxd2,Rf6,c3,Kf7,Kc2,Rf4,Rh2,Kf6,h5,g5,Re2,Rh4,Ne4+,Kf5,Kd3,e5,Ng3+,Ke6,Rxe5+,Kf6,Rf5+,Kg7,Re5,Rh3,Re3,Kf6', 'Ne4+,Ke7,Rxh3', 'https://lichess.org/training/SHjqa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Shl8h', 'Rapid', 'Radical12', 1830, 'benjaminnoa', 1775, 'e4,c5,Nf3,Nc6,Nc3,e6,Be2,d5,exd5,exd5,O-O,Nf6,d3,h6,Bf4,a6,a3,Bd6,Bxd6,Qxd6,Nd2,O-O,Bf3,Ne5,Re1,Nxf3+,Nxf3,Bg4,Qd2,Bxf3,gxf3,Rae8,Kh1,d4,Ne4,Nxe4,fxe4,Qf6,Rg1,Qf3+,Rg2,Re5,Rg1,f5,Qxh6,Rf7,exf5', 'Qxg2+,Rxg2,Re1+,Rg1,Rxg1+,Kxg1,gxh6', 'https://lichess.org/training/Shl8h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ShLgW', 'Rapid', 'demi80', 2241, 'Finnen78', 2237, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,Ngf3,a6,dxc5,Bxc5,Bd3,Nc6,O-O,Nge7,Nb3,Bb6,c3,h6,h3,O-O,Re1,Nf5,Bxf5,Bxf5,Nfd4,Be4,f3,Bg6,Be3,Re8,Kh1,Qh4,Bg1,Ne5,Nc1,Bxd4,Bxd4,Nxf3', 'Rxe8+,Rxe8,Qxf3', 'https://lichess.org/training/ShLgW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ShluE', 'Classical', 'Ramakrishnan2004', 1852, 'CCMM2016', 1821, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,h6,Be3,Bb4,Bd2,O-O,O-O,d6,h3,Na5,Bd5,c6,Bb3,Nxb3,cxb3,d5,exd5,cxd5,a3,Bd6,Re1,Re8,Nb5,Bf5,Nxd6,Qxd6,Rc1,Nd7,Bb4,Qa6,d4,e4,Nh4,Bh7,Rc7,Nf6,f3,g5,Be7,Rac8,Rxc8,Rxc8,Bxf6,Qxf6,fxe4,gxh4', 'Qg4+,Bg6,Qxc8+', 'https://lichess.org/training/ShluE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Shlxg', 'Rapid', 'Badger5', 1741, 'TonyG365', 1858, 'e4,b6,d4,Bb7,Nc3,e6,Bd3,Bb4,Ne2,Nf6,Ng3,Bxc3+,bxc3,h6,O-O,d6,f4,Nbd7,e5,Nd5,exd6,Nxc3,Qg4,Qf6,dxc7,Qxd4+,Kh1,Nd5,Rb1,Nxc7,Bb2,Qa4,Qxg7,O-O-O,Qxf7,Rhg8,Bh7,Rxg3,hxg3,Qa5,g4,Qd2,Rg1,Qe2,Qh5,Nd5,Rbe1,Qb5,Be5,Qa4,Qxh6,Nxe5,fxe5,Qxg4,Be4,Nf4,Bxb7+,Kxb7,Re4,Qg6,Qxg6', 'Rh8+,Qh5,Rxh5#', 'https://lichess.org/training/Shlxg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('shnHK', 'Rapid', 'gokuultra', 1787, 'Turnir_Arthurio_07', 1879, 'e4,c5,Nf3,d6,Nc3,Nf6,d3,e5,Bg5,Be6,Be2,Be7,O-O,O-O,a3,Nc6,Na2,a6,c3,d5,b4,dxe4,Bxf6,exf3,Bxe7,fxe2,Qxe2,Qxe7,bxc5,Qxc5,Nb4,Nxb4,cxb4,Qe7,Qxe5,Rfd8,d4,Rd5,Qe3,Rad8,Rfd1,Qg5,Qc3,Qg4,Qc7,Rxd4', 'Qxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/shnHK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ShnpB', 'Rapid', 'mateusz195', 2258, 'Yogiak-420', 2307, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Bd6,Ne2,O-O,c3,Qc7,h3,Re8,O-O,Bf5,Be3,Nd7,a4,a5,Qd2,Re7,Rfd1,Rae8,d5,c5,Bb5,b6,b3,h5,Bf4,Rxe2,Bxd6,Rxd2,Bxc7,Rxd1+,Rxd1,h4,Bxb6,Ra8,Bxd7,Bxd7,Bxc5,Rc8,Bd4,Kf8,c4,Bf5,c5,Bc2,Rc1,Bxb3,d6,Bxa4,Rb1,Bc6,Rb6,Ke8,Ra6,a4,Kf1', 'Bb5+,Ke1,Bxa6', 'https://lichess.org/training/ShnpB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SHNPQ', 'Rapid', 'iran000iran', 1695, 'filyus', 1600, 'e4,d5,Bb5+,c6,Bd3,dxe4,Bxe4,Nf6,Bf3,e5,Ne2,e4,Bh5,Nxh5,Ng3,Nxg3,hxg3,f5,O-O,Qf6,Qh5+,g6,Qe2,Be6,d3,Bd5,dxe4,fxe4,Bf4,Bd6,Bxd6,Qxd6,Nc3,Nd7,Nxe4,Qb4,Nd6+,Kd8,Nxb7+,Qxb7,c4,Bf7,b3,Kc7,Qe7,Rhf8,c5,Rad8,Qd6+,Kc8,b4,Nb6,Qf4,Nd5,Qg4+,Qd7,Qe2,Nxb4,Rab1,Qe6,Qb2,a5,a3,Rd4,axb4,Rxb4,Qg7,Rxb1', 'Qxf8+,Qe8,Qxe8+,Bxe8,Rxb1', 'https://lichess.org/training/SHNPQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SHntv', 'Rapid', 'Wowo4ka1960', 2029, 'rekekel', 1911, 'e4,e5,Bc4,Bc5,d4,Bxd4,Nf3,Nc6,c3,Bb6,Qd5,Qf6,Bg5,Qe6,Qd3,Qg6,Nbd2,Nf6,O-O-O,d6,h4,Bg4,Bxf6,Qxf6,Rdf1,O-O-O,Ng5,Be6,f4,Bxc4,Nxc4,exf4,Nxb6+,axb6,Qc4,Ne5,Qb3,h6,Nf3,g5,Nd4,Nd3+,Kb1,Nc5,Qa3,Nxe4,Nb5,Nd2+,Ka1,Nxf1,Rxf1,Kd7,Qa7,Qe6,Qxb7,Rc8,Nd4,Qg4,Qc6+,Kd8,Qd5,Rf8', 'Nc6+,Kd7,Ne5+', 'https://lichess.org/training/SHntv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('shOQJ', 'Rapid', 'quartercask', 1719, 'Ross68', 1736, 'e4,c5,Nf3,Nc6,Bd3,d6,h3,e5,c3,Bd7,Bc2,Qb6,O-O,O-O-O,a3,Nh6,b4,c4,a4,Be6,a5,Qc7,Na3,a6,b5,Nxa5,bxa6,bxa6,d3,g6,Be3,f5,Ng5,Bg8,Qd2,f4,Bxf4,exf4,Rfb1,d5,Ba4,Be7,Nf3,dxe4,d4,exf3,gxf3,Be6,Qb2,Nb3,Nxc4,Nxa1', 'Nb6+,Kb7,Nd5+,Nb3,Nxc7', 'https://lichess.org/training/shOQJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('shoYs', 'Rapid', 'rmmmr2020', 1813, 'mrhsl8', 2010, 'e3,e5,Nf3,e4,Nd4,Nf6,d3,d5,dxe4,dxe4,Be2,c6,O-O,Bd6,c4,O-O,b3,Nbd7,Bb2,Ne5,Nd2,Re8,a3,c5,Nb5,Bb8,a4,a6,Nc3,Nd3,Rb1,Nxb2,Rxb2,Qd6,g3,Bh3,Re1,Bc7,Qc2,Qe5,Rbb1,Rad8,Rbd1,h5,Bf1,Bg4,Be2,Bf5,Nf1,h4,Rxd8,Rxd8,Rd1,Rxd1,Bxd1,Bg4,Nd5,Bxd1,Nxf6+,Qxf6,Qxd1,h3,Qg4,Qe6,Qxe6,fxe6,Nd2,Kf7,Kf1,Kg6,Ke2,Kf5,f3,exf3+,Nxf3,g5,Nd2', 'Bxg3,hxg3,h2', 'https://lichess.org/training/shoYs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SHrFV', 'Rapid', 'demo81', 1850, 'Herberth4608', 1749, 'd4,d5,c4,e6,a3,c6,e3,Nf6,Nc3,Be7,Nf3,Ne4,Nxe4,dxe4,Nd2,f5,Be2,O-O,O-O,h6,f3,exf3,Nxf3,Nd7,Qb3,Bf6,c5,Qe7,Bc4,Kf7,e4,b5,cxb6,Nxb6,e5,Bg5,Nxg5+,hxg5,Be3,Nxc4,Qxc4,g6,Qxc6,Bd7,Qc1,Rfc8,Qd2,f4,g3,Kg7,gxf4,gxf4,Bxf4,Qh4,Bg5,Qg4+,Kh1', 'Bc6+,d5,Bxd5+,Qxd5,exd5', 'https://lichess.org/training/SHrFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('shS9T', 'Rapid', 'BigTy', 2238, 'LeCroco59', 2351, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Qc7,Qg4,f5,Qg3,Ne7,Qxg7,Rg8,Qxh7,cxd4,Ne2,dxc3,h4,Qxe5,Bf4,Qf6,Bg5,Qf7,Qxf7+,Kxf7,f4,Nd7,Nxc3,a6,Rb1,Nc5,Be2,Bd7,h5,Rac8,Kd2,d4,Na2,Ne4+,Kc1,b5,Bxe7,Kxe7,Bf3,Nf6,Nb4,Rh8,Nd3,Rc3,Ne5,Rhc8,h6,Rxc2+,Kd1,Nh7,Rh3,b4,Rxb4,Bb5,Rxd4', 'Rc1+,Kd2,R8c2+,Ke3,Re1+', 'https://lichess.org/training/shS9T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SHWh1', 'Blitz', 'renatoavarechess', 1634, 'JoshCrook', 1656, 'c4,Nf6,Nc3,b6,Nf3,Bb7,g3,c5,Bg2,Qc7,O-O,Nc6,d4,cxd4,Nxd4,g6,b3,Bg7,Nxc6,Bxc6,Bb2,Bxg2,Kxg2,O-O,Rb1,h5,e3,h4,Kg1,h3,Nd5,Nxd5,cxd5,Bxb2,Rxb2,Qe5,Rb1,Qe4,f3,Qxe3+,Kh1,Rac8,Re1,Qf2,Re2,Qxf3+,Kg1,Rc5,Rxe7,Qxd1+,Rxd1,Rc2,a4,Rfc8,Rxd7,Rg2+,Kh1,Rcc2,Rd8+,Kg7,d6,Rxh2+,Kg1,Rhg2+,Kh1,Rxg3,d7,Rgg2,Rg8+,Kh7,d8=Q', 'Rh2+,Kg1,Rcg2+,Kf1,Rh1#', 'https://lichess.org/training/SHWh1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('shWoe', 'Classical', 'ForkingGambits', 1855, 'smarty021', 1606, 'e4,e5,Nf3,Nf6,d4,exd4,e5,Ng8,Bc4,Nc6,O-O,d5,exd6,Qxd6,Ng5,Nh6,Qf3,Ne5,Re1,Be7,Rxe5,Qxe5,Bxf7+,Kd8,Qd5+,Qxd5,Bxd5,c6,Bb3,a5,Ne6+,Bxe6,Bxe6,Ng8,c3,Bf6,Bf4,g5,Bd6,Ne7,cxd4,Bxd4,Nc3,Bxc3,bxc3,b5,Rd1,Ke8,Be5,Rd8', 'Rxd8+,Kxd8,Bxh8', 'https://lichess.org/training/shWoe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sHxHf', 'Rapid', 'manuelben', 1962, 'DEN9', 1954, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,b6,e3,Bb7,Be2,Nc6,O-O,Ne7,b4,Ng6,c5,a6,a4,d6,Ba3,Ne4,Nxe4,Bxe4,Bd3,Nh4,Bxe4,fxe4,Nd2,Qg5,g3,d5,Kh1,Ng6,h4,Qf6,f3,Nxh4,gxh4,Qxh4+,Kg2,Be7,Qe1,exf3+,Nxf3,Qg4+,Kf2', 'Bh4+,Ke2,Bxe1', 'https://lichess.org/training/sHxHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('shxpo', 'Classical', 'shirpange1360', 1987, 'Vinlander', 2084, 'e4,c6,Nf3,d5,e5,c5,c3,Bg4,d4,Nc6,Be2,e6,Be3,Qb6,Qd2,Bh5,b3,Bg6,O-O,Nge7,Rd1,Nf5,Na3,cxd4,cxd4,Nxe3,fxe3,Bxa3,Nh4,Be7,Nxg6,hxg6,Rdc1,Rc8,Rab1,Kd7,a3,Bxa3,Rc2,Be7,h3,Qb4,Qd1,Qb6,Ra2,f6,exf6,Bxf6,Bg4,Qc7,Qd3,Rh4,Qxg6,Ne7,Qf7,Qd6,Rxa7,Qb6,Rxb7+,Qxb7,Bxe6+,Kd6,Bxc8,Qxc8,Ra1,Qe6', 'Ra6+,Nc6,Rxc6+,Kxc6,Qxe6+', 'https://lichess.org/training/shxpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SHy9o', 'Rapid', 'Alex_Torbrand', 1886, 'ernestico', 1884, 'e4,c5,Nf3,g6,d4,Bg7,Be3,cxd4,Nxd4,Nc6,Nc3,d6,Qd2,Bd7,O-O-O,h5,f3,Rc8,h3,Ne5,f4,Nc4,Bxc4,Rxc4,f5,gxf5,exf5,Nh6,Rhf1,Qc8,Rde1,Nxf5,Nxf5,Bxf5,Bg5,Be6,Rf3,Bxc3,Rxc3,Rxc3,bxc3,f6,Bf4,Qc4,Qe3,Kf7,a3,Rg8,Re2,Qd5,Qxa7,Rxg2,Rxg2,Qxg2,Bh6,Qf1+,Kb2,Qc4,Qa8,Qa2+,Kc1,Bf5', 'Qf8+,Ke6,Qg8+,Kd7,Qxa2', 'https://lichess.org/training/SHy9o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sHyPi', 'Rapid', 'rOy2007', 1908, 'Amolpatil', 1906, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Qd6,c4,Nf4,Nc3,Bg4,c5,Qe6+,Be2,Nxg2+,Kf1,Bh3,Kg1,Qg6,Bg5,f6,Bd3,f5,Qd2,h6,Nd5,hxg5,Ne5,Qh5,Nxc7+,Kd8,Ne6+,Ke8,Qa5,Nc6,Qd8+,Nxd8', 'Nc7#', 'https://lichess.org/training/sHyPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sHYsz', 'Rapid', 'Olga23', 1894, 'way-to-wisdom', 1859, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Nc3,Nxc3,dxc3,Be7,Nxe5,O-O,Qf3,Bf6,Nxf7,Rxf7,O-O,Nc6,Bxf7+,Kxf7,Qh5+,Kg8,Bf4,d6,Rfe1,Bd7,Rad1,Qf8,Qd5+,Kh8,a3,Re8,h3,Rxe1+,Rxe1,Bh4,Bg3,Bxg3,fxg3,b6,Rf1,Qe8,Qf3,h6,Qf7,Ne5', 'Qxe8+,Bxe8,Rf8+,Kh7,Rxe8', 'https://lichess.org/training/sHYsz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ShYts', 'Rapid', 'makalay', 1687, 'obirab', 1665, 'd4,g6,Bf4,Bg7,Nf3,d5,b3,Nf6,e3,O-O,c4,Nh5,Bg5,h6,Bh4,g5,Nxg5,hxg5,Qxh5,gxh4,Qxh4,dxc4,Bxc4,c6,Qf4,Qa5+,Nd2,Be6,Ke2,Bxc4+,Nxc4,Qd8,h4,b5,Ne5,Qd6,h5,Bh6,Qf3,Qf6,Qe4,Qg5,Rh3,Kh8,Qf3,Qf6,Qe4,Rg8,Rc1,a5,Nxc6,Nxc6,Rxc6,Qg5,Kd2,e6,Rg3,Qf6,Rxg8+,Rxg8,f4,Qh4,Qf3,Rg3,Rc8+,Kh7,Qe4+,Kg7', 'Qe5+,Qf6,Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/ShYts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('shYVA', 'Classical', 'B0TMAN', 1720, 'bias73', 1738, 'e4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Be2,d5,exd5,cxd5,O-O,O-O,Na4,Bb6,Bg5,c6,Nxb6,axb6,b3,Re8,c4,d4,Bd3,c5,Qc2,g6,Qd2,Qd6,Bf4,Qd7,Bg5,Nh5,Be2,Ng7,Bf6,Qf5,Bg5,Ne6,Bd3', 'Qxg5,Qxg5,Nxg5', 'https://lichess.org/training/shYVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sHyYp', 'Rapid', 'Cheeku65', 1620, 'Ahmadahmada', 1622, 'd4,g6,e4,Bg7,c3,d6,Nf3,Nf6,d5,Nxe4', 'Qa4+,Nd7,Qxe4', 'https://lichess.org/training/sHyYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SHZ83', 'Rapid', 'Britvich', 1945, 'Ivan-1974', 1919, 'c4,e5,Nc3,d6,e4,Be6,d3,Nc6,Nf3,Be7,Be2,h5,h4,g6,Be3,Nf6,Qd2,a6,O-O-O,Ng4,Nd5,Nxe3,Nxe3,Na7,Kb1,c5,Nd5,Bxd5,exd5,b5,Ng5,b4,b3,a5,Rde1,Nc8,Bd1,Nb6,f4,Bf6,Nf3,Nd7,g3,O-O,f5,Kg7,fxg6,fxg6,Rhf1,Qe7,Qe2,Rf7,Bc2,Raf8,Qe4,Kg8,d4,Rg7,dxe5,Nxe5,Nxe5,Bxe5,Rxf8+,Qxf8,Qe3,Qf6,Qg5,Qxg5,hxg5,Kh7,g4,hxg4,Rh1+,Kg8,Rh6,Kf7,Be4,g3,Rh1,Bf4', 'Rf1,Kg8,Rxf4', 'https://lichess.org/training/SHZ83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sHzer', 'Blitz', 'AndersLinden', 1843, 'GMalain', 1954, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,O-O,b5,Bb3,Qc7,Re1,Be7,Kh1,Nc6,f4,O-O,Be3,Nxd4,Bxd4,b4,Nb1,Bb7,Nd2,a5,e5,dxe5,Bxe5,Qc6,Nf3,Ng4,Qe2,Bc5,Bd4,Bd6,h3,Nh6,Ne5,Bxe5,Bxe5,Rac8,c3,Nf5,Qg4,h5,Qg5,h4,Kg1,Rfd8,Rad1,Qb6+,Kh2,Rxd1,Rxd1,Qf2,Rd8+,Rxd8,Qxd8+,Kh7,Qg5,f6,Qh5+,Kg8', 'Bxe6+,Kf8,Qf7#', 'https://lichess.org/training/sHzer');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SHzLl', 'Blitz', 'EwoudUtrecht', 1787, 'ompx', 1834, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,Be7,Bxf6,Bxf6,Nd5,b5,c3,O-O,Bd3,Be6,h4,Rb8,Nc2,a5,Nce3,b4,h5,bxc3,bxc3,Rb2,h6,Bh4,hxg7,Bxf2+,Kf1,Kxg7,Qh5,Rh8,Nf5+,Bxf5,Qxf5,f6,Rh6,Kxh6,Nxf6,Kg7,Nh5+,Kh6,Be2,Qh4,Qe6+,Kg5,Qf5+,Kh6', 'Qe6+,Kg5,Qf6#', 'https://lichess.org/training/SHzLl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sI3UI', 'Classical', 'edi_h', 1657, 'TrolsMan', 1609, 'c4,e5,Nc3,Bb4,Nd5,Bc5,d3,Nf6,Ne3,d6,Nf3,Nc6,g3,Nd4,Nxd4,Bxd4,Bg2,Bg4,O-O,Bxe3,Bxe3,e4,d4,Qe7,Re1,O-O,Qb3,b6,Qc2,d5,cxd5,Rfe8,Bg5,h6,Bxf6,Qxf6,Bxe4,Qxd4,Bh7+,Kf8,Red1,Qe5,e4,g6,b4,Kg7,Bxg6,fxg6,Re1,Qd4,Qxc7+,Kf8', 'Qf4+,Kg7,Qxg4', 'https://lichess.org/training/sI3UI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sI4SI', 'Rapid', 'zecaherrera', 1712, 'kelvindo', 1717, 'd4,d5,Nf3,Nf6,Bf4,c5,e3,e6,dxc5,Bxc5,c4,O-O,cxd5,Nxd5,Bg3,Nc6,Nbd2,Qf6,Bc4,Qxb2,O-O,b6,Bxd5,exd5,Nb3,Bg4,Nxc5,bxc5,Qxd5,Bxf3,gxf3,Qb6,Rab1,Qa6,Rfc1,Rfd8,Qc4', 'Rd1+,Kg2,Qxc4,Rxc4,Rxb1', 'https://lichess.org/training/sI4SI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('si6xA', 'Classical', 'aranmardoukhi', 1614, 's3v', 1674, 'e4,e6,Nc3,c5,h3,Nc6,a3,Nf6,Nf3,d5,exd5,Nxd5,Nxd5,Qxd5,Be2,Ne5,O-O,b6,Nxe5,Qxe5,Re1,Bd6,g3,Bb7,Bf3', 'Bxf3,Rxe5,Bxd1', 'https://lichess.org/training/si6xA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SI7h2', 'Blitz', 'ulasbay', 1686, 'Jazzzzie', 1642, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,f6,d4,Be6,O-O,Qd7,Kh2,O-O-O,Nc3,exd4,Na4,g5,Re1,b5,Nxg5,fxg5,Bxg5,bxa4,Bxd8,Qxd8,Qd3,Bg7,Qxa6+,Kd7,Qxa4,Be5+,Kh1,Nf6,Rad1,Qe7,f4,Bxf4,Rxd4+,Bd5,c4,Nxe4,cxd5', 'Nf2+,Kg1,Qxe1#', 'https://lichess.org/training/SI7h2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sI9dF', 'Rapid', 'CristinaValle', 1768, 'ArGen1963', 1796, 'e4,c6,d4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Ngf6,Nc3,e6,a3,Rc8,O-O,Nb6,Qe2,a6,Bg5,Be7,Bxf6,Bxf6,Nd1,Nc4,c3,O-O,b3,Nd6,a4,Ne4,Rc1,Qb6,b4,Qc6,b5,axb5,axb5,Qc7,Ne5,Rfd8,c4,Bxe5,dxe5,Qxe5,f3,Qd4+,Kh1,Nd6,Ne3,dxc4,Rfd1,Qb6,Nxc4,Qxb5,Qd2,Qd5', 'Qxd5,exd5,Nxd6,Rxc1,Rxc1', 'https://lichess.org/training/sI9dF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SIady', 'Rapid', 'darkfl0me', 1781, 'Carabias2017', 1678, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,g3,e5,Bg2,c6,d3,Bb4,a3,Ba5,b4,Bb6,Nf3,Nd7,Bb2,Ngf6,O-O,O-O,Na4,Bc7,Rc1,Qe7,Re1,b5,Nc5,Nxc5,Rxc5,e4,Bxf6,Qxf6,dxe4,Bb7,Qc2,Bb6,Rf5,Qe6,e5,Rac8,Ng5,Qh6,Ne4,Rcd8,Rg5,f5,Nf6+', 'Rxf6,exf6,Qxg5', 'https://lichess.org/training/SIady');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SIaeL', 'Blitz', 'CM Bierpower', 2386, 'ashleesh21', 2360, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,Qg4,Ne7,dxc5,d4,Bb5+,Nbc6,Ne2,Bxc5,Ne4,Qa5+,Bd2,Qxb5,Qxg7,Rg8', 'Nf6+,Kd8,Nxg8', 'https://lichess.org/training/SIaeL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sib5v', 'Blitz', 'IM Panesso', 2584, 'FM DailyInsanity', 2519, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,h3,g6,Nf3,Bg7,Bd3,O-O,Bg5,Nc6,Ne2,a6,O-O,b6,c3,Bb7,Re1,Re8,Ng3,Qd7,Qd2,e6,Rad1,Nd5,Bh6,Bh8,Ne5,Nxe5,dxe5,Rad8,Qe2,Qa4,a3,Qh4,Qd2,Qa4,Bg5,f6,exf6,Bxf6,Ne4,Bxg5,Qxg5,Rf8,Qe5,Qe8,Ng3,Nf4,Bf1,Rxd1,Rxd1,Qf7,Rd2,h5,Ne4,Nxh3+,gxh3,Qf3,Ng3,h4,Rd3', 'Qxf2#', 'https://lichess.org/training/Sib5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sibd7', 'Blitz', 'traviesoivan', 1556, 'leaf5', 1548, 'Nf3,d5,d4,Nc6,c4,Bf5,Nc3,Nf6,Bg5,h6,Bxf6,exf6,e3,Bb4,a3,Bxc3+,bxc3,O-O,Bd3,Be6,O-O,dxc4,Bc2,b5,e4,Ne7,d5,Bd7,Re1,Bg4,Re3,Ng6,h3,Bxf3,Rxf3,Ne5,Rg3,a5,f4,Ng6,f5,Ne5,Qh5,Kh7,Rf1,Rg8,Rf4,Ra7,Rh4,c6', 'Rxg7+,Rxg7,Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/sibd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sIBWF', 'Rapid', 'yura_kudr', 1926, 'jamasp', 1814, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Be2,Nf6,h3,Be7,d4,O-O,dxc5,Bxc5,O-O,d4,Nbd2,Nc6,Nb3,Bb6,Bg5,h6,Bh4,Be6,Bd3,g5,Nxg5,hxg5,Bxg5,Kg7,Qf3,Ne5,Qg3,Ng6,f4,Bc7,Qf2,Qd6,Nxd4,a6,g3,Bxh3,c3,Ng4,Qd2,Bxf1', 'Nf5+,Kg8,Nxd6', 'https://lichess.org/training/sIBWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sic3F', 'Rapid', 'hover', 1863, 'Albatros29', 1876, 'd4,d5,e3,Nf6,c4,Be6,c5,c6,Nc3,g6,Nf3,Bg4,Be2,Bxf3,Bxf3,Nbd7,O-O,e5,Bg4,Bg7,Bxd7+,Nxd7,dxe5,Bxe5,f4,Bxc3,bxc3,Nxc5', 'Qd4,O-O,Qxc5', 'https://lichess.org/training/Sic3F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sIcSX', 'Rapid', 'Ekors55', 1624, 'rajkos', 1616, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d5,Bxc6+,bxc6,Nxe5,Bd6,Nxc6,Qd7,exd5,Bb7,Qe2+,Ne7,Nxe7,Bxe7,c4,O-O,Nc3,Rfe8,O-O,Bd6,Qf3,c6,d4,cxd5,Nxd5,Rac8,b3,Bb4,Bb2,Bxd5,cxd5,Rc7,Rac1,Qb5,Rxc7', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/sIcSX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sie9p', 'Rapid', 'Yasaii-tame', 1675, 'sinu001', 1659, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Bd7,Bh6,Nc6,Bxg7,Kxg7,g4,e5,Nb3,Ne8,O-O-O,Rc8,h4,a5,Nc5,Nd4,Nxd7,Qxd7,Ne2', 'Rxc2+,Qxc2,Nxc2', 'https://lichess.org/training/Sie9p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SieCW', 'Rapid', 'sakr3030', 1875, 'Kangsta', 1897, 'c4,Nf6,e3,d5,cxd5,Nxd5,d4,Nc6,a3,e6,b4,Bd6,Bb2,O-O,Nf3,b6,Be2,Bb7,O-O,Nce7,Nbd2,Ng6,Qc2,f5,Rfd1,Nh4,Rac1,Qf6,g3,Qg6,Nxh4,Qh6,Ng2,f4,exf4,Nxf4,Bf3,Bxf3,Nxf3', 'Nh3+,Kf1,Rxf3', 'https://lichess.org/training/SieCW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SIErr', 'Rapid', 'Inostranecneprochtet', 1791, 'guyLevin', 1749, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,Nc3,axb5,Nxb5,Ba6,Nc3,d6,Bg5,g6,Qa4+,Qd7,Bxf6,exf6,Nf3,Bg7,e3', 'Qxa4,Nxa4,Bxf1,Kxf1,Rxa4', 'https://lichess.org/training/SIErr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SIflz', 'Blitz', 'mohammad_manavi', 2043, 'Supertruper', 1808, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bd3,Bxd3,Qxd3,e6,Nc3,Nc6,Bf4,Qb6,O-O-O,Rc8,Kb1,Bb4,Bd2,Bxc3,Bxc3,Na5,Bxa5,Qxa5,Ne5,Nf6,Qb3,Ne4,Qxb7,O-O,f3,Nf2,Rhf1,Nxd1,Rxd1,Rb8,Qc6,Rfc8,Qd6,Rb6,Qd7,Rcb8,Qxf7+,Kh8,b3,Qa3,Nd3,a5,Nc1,a4,Rd3,axb3,cxb3,Rc8,Qf4,Ra6,Qd2', 'Rxc1+,Qxc1,Qxa2#', 'https://lichess.org/training/SIflz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('siGCQ', 'Blitz', 'lboztas', 1723, 'Ura9', 1725, 'c4,d6,Nf3,c6,g3,Nd7,Bg2,h6,d3,g5,O-O,Bg7,Nc3,g4,Nh4,Bf6,Nf5,Nf8,Ne4,Bxf5,Nxf6+,Nxf6,Bf4,h5,Qd2,Ne6,Bg5,Nxg5,Qxg5,Bg6,h4,gxh3,Bxh3,Ng4,Bxg4,hxg4,Qxg4,e6,Kg2,Qe7,Rh1,O-O-O,Rhc1,Bh5,Qe4,Rh6,e3,Rdh8,Rg1,Qf6,Qd4,Bf3+,Kf1,Rh1,Qxf6', 'Rxg1+,Kxg1,Rh1#', 'https://lichess.org/training/siGCQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sIGFw', 'Rapid', 'Corylus', 1933, 'max4ever', 1832, 'e4,e5,f4,exf4,Nf3,Bc5,d4,Bb6,Bxf4,c6,Nc3,Ne7,Bc4,O-O,Qd2,d5,exd5,Nxd5,O-O-O,Nxf4,Qxf4,Bc7,Qg5', 'Qxg5+,Nxg5,Bf4+,Kb1,Bxg5', 'https://lichess.org/training/sIGFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sIggQ', 'Blitz', 'Denashi6', 1510, 'FIWINDAFANIAGOPUTRA', 1527, 'e4,g6,Nf3,Bg7,d4,d6,c4,Bg4,Nc3,Nf6,h3,Bd7,Bg5,O-O,Qd2,a5,a4,c6,Bd3,Qe8,O-O-O,Na6,h4,b5,axb5,cxb5,d5,b4,Ne2,a4,h5,a3,bxa3,bxa3,hxg6,fxg6,Bh6,Bxh6,Qxh6,a2,Kd2,Nb4,e5,dxe5,Nxe5,Nxd3,Nxd3,Bg4,f3,Bf5,g4,Bxd3,g5,Rf7,gxf6,Bxe2,Kxe2,exf6+,Kf2,Qe5,Rdg1,Qb2+,Ke3,Re7+,Kf4,a1=Q,Rxg6+,hxg6', 'Qh8+,Kf7,Rh7#', 'https://lichess.org/training/sIggQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sIGoJ', 'Classical', 'Otario123345', 1848, 'leopold2016', 1862, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c3,Qb6,Be3,Qxb2,Nd2,Qxc3', 'Rc1,Qxc1,Qxc1', 'https://lichess.org/training/sIGoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sihnH', 'Blitz', 'Amirmin', 1630, 'Let3', 1663, 'e4,c6,d3,d5,e5,Bf5,d4,e6,c3,c5,Nf3,h6,Be2,Qb6,O-O,Nd7,h3,f6,exf6,Ndxf6,Ne5,Bd6,Qa4+,Ke7,Nd2,Bxe5,dxe5,Ne4,Nf3,g5,Nh2,h5,f3,Ng3,Re1', 'c4+,Be3,Qxe3#', 'https://lichess.org/training/sihnH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SiIwr', 'Blitz', 'IM disk11', 2377, 'lulukarpov', 1858, 'c4,g6,g3,Bg7,Bg2,Nf6,Nc3,c6,e4,e5,Nge2,O-O,O-O,d6,d3,a6,h3,Bd7,Bg5,Qc8,Qd2,Bxh3,f3,Bxg2,Kxg2,Nbd7,Bh6,Nh5,Rh1,Ndf6,g4,Nf4+,Nxf4,Nxg4,Bxg7,Kxg7,Nfe2,h5,fxg4,Qxg4+,Ng3,h4,Rh3,hxg3,Qh6+,Kf6,Rf1+,Ke6,Rxg3,Qh5,Qxh5,gxh5,Rg5,Rg8,Rf5,f6,Rxg8,Rxg8+,Kh2,Rg5,Rxg5,fxg5,Kg3,b5,cxb5,axb5,b4,Kd7,a3,Kc7,Kf3,Kb6,Ke3,h4,Ne2,g4,Nc3,h3,Kf2,c5,Kg3,c4,dxc4,bxc4,a4,Kc6,Nd5,Kb7,b5,Ka7,a5,Kb7,Ne3,c3,Nc2,Ka7,Nb4,Kb7,a6+,Ka7,Nc2,Kb6,Kf2,Ka7,Ne3,h2,Kg2,g3,Nc2,Kb6,Nb4,Ka7,Nc2,Kb6,Ne3,Ka7,Kh1,Kb6,Nc2,d5,Ne3', 'd4,Nc2,d3', 'https://lichess.org/training/SiIwr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SiJHh', 'Blitz', 'formul', 1795, 'PsFontoura', 1798, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Be3,Bg7,Bc4,Nf6,Nc3,Ne5,Bb3,O-O,O-O,Neg4,Bg5,h6,Bxf6,Nxf6,e5,Ne8,f4,d6,Nf3,Bg4,h3,Bxf3,Qxf3,dxe5,Rad1,Qb6+,Kh1,exf4,Qxf4,Nf6,Ne4,Nh5,Bxf7+,Kh7,Qf3,Qxb2,Qd3,Qb6,Rb1,Qd4,Nf6+,Bxf6', 'Qxg6+,Kh8,Qxh6#', 'https://lichess.org/training/SiJHh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sIKCf', 'Rapid', 'Gurra1777', 2189, 'carlsenesque', 2057, 'c4,e6,g3,d5,Bg2,a6,Nf3,Nc6,O-O,dxc4,a4,Nf6,Qc2,Na5,Na3,Bxa3,Rxa3,O-O,Ne5,Qd4,Nf3,Qd6,d3,cxd3,Rxd3,Qe7,b4,Nc6,Ba3,Nxb4,Bxb4,Qxb4,Qxc7,Nd5,Qc2,Bd7,Rd4,Qc3', 'Qxc3,Nxc3,Rxd7', 'https://lichess.org/training/sIKCf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('siKCt', 'Rapid', 'predator28', 2182, 'emre2004', 2176, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,c5,dxc5,Bxc5,Nf3,O-O,e3,Nc6,Be2,d5,cxd5,exd5,O-O,a6,Rc1,Bd6,h3,Bf5,a3,Qd7,Na2,Bxh3,gxh3,Qxh3,Re1,Ng4,Bf1', 'Bh2+,Kh1,Nxf2#', 'https://lichess.org/training/siKCt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SiKm1', 'Blitz', 'Philou6929', 1725, 'Kte4', 1652, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,c3,Ngf6,Bd3,Bxd3,Qxd3,e6,O-O,Bd6,Bg5,h6,Bd2,O-O,Rae1,a6,Ne4,Nxe4,Qxe4,Nf6,Qh4,b5,Ne5,Rc8,Re3,Nd7,Qxd8,Rfxd8,Nxd7,Rxd7,Rfe1,Bf4,R3e2,Bxd2,Rxd2,c5,Red1,Rcd8,f4,cxd4,Rxd4,Rxd4,Rxd4,Rxd4,cxd4,f5,Kf2,Kf7,Ke3,Ke7,h3,g5,g4,Kf6,fxg5+,hxg5,gxf5,Kxf5,Kf3,a5,b3,Kf6,Ke4,b4,d5,exd5+,Kxd5,Kf5,Kc5', 'Kf4,Kb5,Kg3,Kxa5,Kxh3,Kxb4,g4', 'https://lichess.org/training/SiKm1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sIkvq', 'Rapid', 'pejman321', 1694, 'mk_do', 1658, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,Bg4,f3,Bh5,g4,Bg6,Nh3,e6,Nf4,Nc6,Nxg6,hxg6,Ne4,Qb6,Nxf6+,gxf6,Bc3,O-O-O,Qe2,Nxd4,Bxd4,Rxd4,Bg2,Qxb2,O-O,b6,f4,Bc5,Qa6+,Kd7,Kh1,Qxc2,Qb5+,Kc8,Qc6,Rd6', 'Qa8+,Kd7,Qxh8', 'https://lichess.org/training/sIkvq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sIL6e', 'Rapid', 'barbar10', 2186, 'rattascalpel', 2244, 'd3,e5,Nf3,d6,c4,Nc6,g3,Nf6,Bg2,Be7,O-O,O-O,d4,h6,Nc3,a6,b3,Bf5,dxe5,dxe5,Bb2,Bd6,Re1,e4,Nd4,Bh7,Nxc6,bxc6,e3,Qe7,Ne2,Rfd8,Qc2,c5,Rad1,g5,Nc3,c6,Na4,Be5,Rxd8+,Rxd8,Rd1,Rd3,Bxe5,Qxe5,Nb2,Qxb2,Qxb2,Rxd1+,Bf1,Bf5,Kg2,Nd7,Be2,Rd6,Qc2,Ne5,Qc3,Nd3,Bxd3,exd3,Qd2,g4,f3,h5,e4,gxf3+,Kxf3,Bg4+,Ke3,Rf6,Kxd3', 'Rd6+,Kc3,Rxd2', 'https://lichess.org/training/sIL6e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SiM4k', 'Blitz', 'amjadalneser', 1991, 'Adnanxxxxx', 1836, 'd4,Nf6,Bg5,d5,e3,e6,Nf3,Be7,Nbd2,Ne4,Bxe7,Qxe7,Bd3,Nxd2,Qxd2,O-O,c4,dxc4,Bxc4,Bd7,O-O,a5,Qc2,Nc6,a3,a4,Rac1,h6,Bb5,Ne5,Bxd7,Nxf3+,gxf3,Qxd7,Qxc7,Qb5,Qc2,Ra6,Qd2,Rb6,Rc2,e5,d5', 'Rg6+,Kh1,Qxf1#', 'https://lichess.org/training/SiM4k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SINEv', 'Blitz', 'klausdieter', 1691, 'malyshevpe', 1680, 'e4,c5,d4,cxd4,Nf3,Nf6,e5,Ng4,h3,Nxe5,c3,Qa5,Be2,Nbc6,O-O,Nxf3+,Bxf3,d5,cxd4,Bf5,Nc3,e6,Bd2,Rc8,Nxd5,Qd8,Ne3,Bd3,Re1,Nxd4,Bc3,Bc5,Qxd3,Nxf3+,gxf3,Qxd3,Rad1,Qg6+,Kh2,O-O,Rg1,Qc2,Ng4,f5', 'Nh6+,Kh8,Bxg7#', 'https://lichess.org/training/SINEv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SINnv', 'Rapid', 'eskipur', 1826, 'redor', 1688, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Qxd4,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,Be7,O-O-O,O-O,h4,Nd7,Bxe7,Qxe7,Nd5,Bxd5,exd5,Qf6,h5,Rfe8,Qxf6,Nxf6,c4,Ng4,Rd2,Re4,b3,Rae8,Kd1,h6,Re1,Rxe1+,Nxe1,Nf6,Re2,Rxe2,Kxe2,Nxh5,Kf3,f6', 'g4,Nf4,Kxf4', 'https://lichess.org/training/SINnv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SINQI', 'Blitz', 'Manseon', 1712, 'anar__m', 1712, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,d6,Bg5,Be7,O-O-O,h6,Be3,Bg4,f3,Bd7,Bc4,c5,Qd2,b5,Be2,b4,Nb1,Be6,g4,Qa5,b3,Qb6,f4,Nxe4,Qd3,d5,f5,Bd7,Bf3,Nc3,Nxc3,bxc3,Bxd5,Qa5,Bxa8', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/SINQI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sinwx', 'Rapid', 'Fielfhoude', 1619, 'Mohsen1359', 1645, 'd4,d5,Nf3,e6,Bf4,c5,Nc3,cxd4,Nxd4,Bb4,Qd3,Nf6,a3,Bxc3+,Qxc3,Ne4,Bc7,Qf6,Qe3,Nc6,Nf3,Qxb2,Rc1,O-O,Bg3,Na5,Be5,Nc4', 'Bxb2,Nxe3,fxe3', 'https://lichess.org/training/sinwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('siNXP', 'Rapid', 'windyhm', 2008, 'Samsung55', 2004, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,e5,c3,Bc5,O-O,O-O,Bg5,d5,exd5,cxd5,Bc2,Re8,Kh1,Rb8,b4,Be7,Nd2,Bg4,f3,Bh5,Qe2,Qc7,Bb3,Rbd8,Rac1,e4,Bxf6,Bxf6,Qf2,e3,Qe2,exd2,Qxd2,Re6,Bxd5,Red6,c4,Bg6,Qe3,Bf5,Rfe1,Be6,Rcd1,h6,h3,Bxd5,cxd5,Rxd5', 'Rxd5,Rxd5,Qe8+,Kh7,Qe4+', 'https://lichess.org/training/siNXP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SIo6o', 'Rapid', 'XxxKillerQueenxxX', 2042, 'PatzerNoster', 2025, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,d3,Nf6,Nxe5,d5,Bb3,Bd6,f4,Bxe5,fxe5,Ng4,d4,Qh4+,g3,Qh3,Bxd5,c6,Bxf7+,Kxf7,Qf3+,Ke8,Rf1,Nxh2', 'Qf7+,Kd8,Bg5#', 'https://lichess.org/training/SIo6o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SioV4', 'Classical', 'EDMAR1234567', 1950, 'egosdonotrule', 1953, 'e4,g6,d4,Bg7,c4,c5,d5,d6,Nc3,Bxc3+,bxc3,Qa5,Qc2,Nf6,Bd3,O-O,Bh6,Re8,h3,e6,Bg5,Nbd7,dxe6,Rxe6,Ne2,Ne5,O-O,Nxd3,Qxd3,Nxe4,Bh6,Bd7,Nf4,Re5,Nd5,Qd8,Rae1,f5,f4,Re8,Bg5,Nxg5,Rxe8+,Bxe8,fxg5,Qxg5,Re1,Bc6,Ne7+,Kg7,Nxc6,bxc6,Qxd6,Rd8', 'Re7+,Kh6,Qxd8', 'https://lichess.org/training/SioV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SIpFv', 'Blitz', 'DufurLaza2004', 1559, 'JUAODUDOCE', 1576, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,a6,Bc4,Qc7,Qe2,b5,Bb3,Bb7,O-O,d6,Bf4,Nd7,Rac1,Qb6,Be3,Qd8,Rfd1,Be7,Bf4,Nb6,e5,d5,Nd4,Rc8,Ndxb5,axb5,Nxb5,Rxc1,Rxc1,Na8,Ba4,Kf8,Nd6,Bxd6,exd6,Nf6,d7,Nxd7,Bd6+,Kg8,Qb5,Ndb6,Bc7,Nxc7,Qxb6,Qa8,Rxc7,Qxa4', 'Rc8+,Bxc8,Qd8+,Qe8,Qxe8#', 'https://lichess.org/training/SIpFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SiSEh', 'Rapid', 'kilvap999', 2079, 'miltonguzman', 2086, 'e4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Bb4,Bg5,h6,Nxc6,bxc6,Bd2,O-O,Bd3,d5,a3,Bxc3,Bxc3,dxe4,Be2,Qe7,Bb4,c5,Bc3,Rd8,Qc1,Bg4', 'Bxf6,Qxf6,Bxg4', 'https://lichess.org/training/SiSEh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sIU61', 'Rapid', 'drmetwalli', 1841, 'sildc', 1739, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,Qb6,Be2,Nxd4,Be3,Qxb2,Bxd4,e6,Nb5,Qb4+,Bc3,Qc5,Bd4,Qb4+,Bc3,Qxe4', 'Nc7+,Kd8,Nxa8', 'https://lichess.org/training/sIU61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sivdm', 'Blitz', 'NM pFalcon', 2194, 'Kusokosla', 2259, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,a3,a5,e3,Bc5,e4,Bg4,Bf4,Nge7,h3,Bxf3,Qxf3,Ng6,e6,O-O,exf7+,Rxf7,g3,Nce5,Qg2,d3,Bxe5,Nxe5,Nd2,Qd4,f4,Nxc4,Nxc4,Qxc4,Rd1,Re8,Bxd3,Qd4,Rf1,c6,e5,Qe3+,Qe2,Qxg3+,Rf2,Qg1+,Kd2', 'Qxf2,Qxf2,Bxf2', 'https://lichess.org/training/Sivdm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('siVRX', 'Classical', 'artur1964', 1696, 'fuser96', 1828, 'Nf3,Nf6,c3,g6,d4,Bg7,Nbd2,O-O,e4,d6,Bc4,Bg4,Qb3,Nc6,Ng5,e6,d5,Na5,Qb5,Nxc4,Qxc4,Nxd5,Nxf7,Rxf7,exd5,Bf5,dxe6,Qe7,O-O,Bxe6,Qe4,d5,Qa4,Raf8,Nb3,c5,Qxa7,c4,Nc5,Be5,Nxe6,Qxe6,Be3,Qe7,Rae1,Rf5,Bc5,Bxh2+', 'Kxh2,Qh4+,Kg1,Rh5,f3', 'https://lichess.org/training/siVRX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SIWWF', 'Blitz', 'Share29', 1913, 'ixoq21', 1892, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,Nc3,Bxc3+,bxc3,Nf6,Ba3,d6,Nxc6,bxc6,Bd3,O-O,O-O,Nd7,f4,Nc5,Bxc5,dxc5,Qf3,Be6,f5,Bd7,Rad1,f6,Bc4+,Kh8,Qh5,Qe7,Rf3,Be8', 'Qxh7+,Kxh7,Rh3+,Bh5,Rxh5#', 'https://lichess.org/training/SIWWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('siXI3', 'Blitz', 'utyman', 2105, 'ibailak', 2107, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,dxc4,e4,b5,e5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Nbd7,exf6,Qb6,g3,Bb7,Bg2,c5,d5,O-O-O,O-O,b4,Na4,Qa6,a3,b3,Nc3,Ne5,Qe2,Nd3,dxe6,Bxg2,Kxg2,Qxe6,Qf3', 'Qh3+,Kg1,Qxh2#', 'https://lichess.org/training/siXI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sIXzH', 'Rapid', 'd5pardede', 1805, 'Dimasindo', 1838, 'e4,c5,Nc3,d6,f4,Nf6,Nf3,Nc6,g3,Bg4,Bg2,g6,d3,Bg7,O-O,Nd4,Be3,Nd7,Qd2,O-O,Bxd4,Bxd4+,Nxd4,cxd4,Ne2,e5,fxe5,dxe5,h3,Be6,c3,Nc5,cxd4,exd4,b3,Qd7,Qg5,Nxd3,Rad1,Nb4', 'Rxd4,Qc7,Rxb4', 'https://lichess.org/training/sIXzH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SIyiD', 'Rapid', 'Timiziwe', 1733, 'Skillz2000', 1907, 'd4,Nf6,e3,e6,c4,d5,Nf3,c5,Nc3,cxd4,Nxd4,Bb4,cxd5,Bxc3+,bxc3,Qxd5,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,O-O,Re1,Qh5,Nf3,Ne5,Nxe5,Qxe5,Bb2,Qh5,Qd4,Rfd8,Qf4,Qb5,Rab1,Qd5,c4,Qd6,Qxd6,Rxd6,Bxf6,gxf6,Rxb7,Rd2,a4,Ra2,Rc1,Rxa4,c5,Ra2,c6,Rc8,c7,Kg7,Rb8,Rxc7,Rf1,Rcc2,g3,a5,h4,a4,h5,a3,h6+,Kxh6,Rg8,Rab2', 'Kg2,Rxf2+,Rxf2', 'https://lichess.org/training/SIyiD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('siyl1', 'Rapid', 'AmrHassan093', 1742, 'sertac1', 1744, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Nf6,h3,d5,exd5,Nxd5,Qe2,f6,d4,a6,dxe5,fxe5,Nxe5,Nxe5,Qxe5+,Be7,Bxd5,c6,Qxg7,Kd7,Qg4+,Kc7,Qf4+,Bd6,Qf7+,Bd7,Be6,Re8,O-O,Rxe6,Nc3,Re7,Qh5,Re6,Bd2,Qg8,Rfe1,Rg6,g3', 'Rxg3+,fxg3,Qxg3+', 'https://lichess.org/training/siyl1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SiYQf', 'Rapid', 'Pertrossiann', 2071, 'aungphyominarsam', 2066, 'c4,Nf6,Nc3,e6,g3,d5,d4,c6,Bg2,Be7,Nf3,O-O,O-O,Nbd7,Qc2,b6,e4,dxe4,Nxe4,Nxe4,Qxe4,Bb7,Ne5,Nxe5,dxe5,Qc7,Rd1,c5', 'Qxb7,Qxb7,Bxb7', 'https://lichess.org/training/SiYQf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SizvW', 'Rapid', 'czechchess', 2095, 'Kellenda', 2024, 'c4,c5,Nc3,b6,e4,Bb7,g3,d6,Bg2,e6,d3,a6,Nge2,Nf6,h3,Qc7,O-O,Nbd7,f4,Be7,b3,Rc8,Be3,O-O,Qd2,Kh8,g4,Rg8,Ng3,d5,Bf2,d4,Nce2,e5,f5,h5,g5,Nh7,h4,Qd8,Nxh5,Nxg5,hxg5,Bxg5,Qe1,g6,Nhg3,Nf6,Bf3,gxf5,Nxf5', 'Bd2+,Neg3,Bxe1', 'https://lichess.org/training/SizvW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJ0ft', 'Blitz', 'Mal77', 1734, 'REALLY_awful', 1748, 'c3,g6,d4,Bh6,e3,Nf6,f4,d5,Nf3,Nc6,Bd3,Bg4,O-O,Qd7,b4,Rg8,a4,g5,Qe1,gxf4,Ne5,Nxe5,dxe5,Qe6,exf4,Nh5,f5,Qb6+,Kh1,Bxc1,Qxc1,O-O-O,a5,Qc6,Nd2,Rg5,Nb3,Rdg8,Nd4,Qd7,e6,fxe6,fxe6,Qd6,Rg1,Bxe6,Nxe6,Qxe6,Qd2,Nf6,Rae1,Qd6,Qe2,Ne4,Bxe4,dxe4,Qxe4', 'Qxh2+,Kxh2,Rh5+,Qh4,Rxh4#', 'https://lichess.org/training/SJ0ft');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sj0U4', 'Rapid', 'cainofhouse', 1616, 'coferoya', 1738, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Nc3,Qd8,h3,Bh5,Be2,Nc6,d3,e5,Nxe5,Nxe5,Bxh5,Nf6,Qe2,Qe7,O-O,Nxh5,Qxh5,O-O-O,Bf4,Ng6,Rfe1', 'Nxf4,Rxe7,Nxh5', 'https://lichess.org/training/sj0U4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJ1wU', 'Rapid', 'goodluck_jonathan', 1723, 'khaledrefai', 1721, 'e4,e6,c4,c5,Nc3,g6,Nf3,d6,d4,cxd4,Qxd4,e5,Qd1,Bg7,Be2,Nf6,Bg5,O-O,O-O,Nbd7,Nd5,a6,b4,b5,cxb5,h6,Bh4,axb5,Bxb5,Bb7,a4,Bxd5,exd5,Qb6,a5,Qxb5,Qd2,Nxd5,Rfd1,Nxb4,Qxd6,Rad8,Bxd8,Rxd8,Qe7,Bf6,Qd6,Nc5', 'Qxf6,Rxd1+,Rxd1', 'https://lichess.org/training/SJ1wU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJ3Nr', 'Blitz', 'Stedman1259', 1761, 'giamp8', 1694, 'd4,d5,c4,e5,cxd5,Qxd5,Nf3,e4,Ne5,Nc6,Nc3,Qxd4,Nxc6,Qxd1+,Kxd1,bxc6,Nxe4,Bf5,Ng3,Bg6,Bf4,Bd6,Be3,Nf6,Bc1,Ng4,Be3,Nxe3+,fxe3,Bxg3,hxg3,O-O,Ke1,Rfe8,Kf2,Re4,Rd1,Rae8,Rc1,R4e6,Rh4,Rd6,Rhc4,Ree6,g4,f6,g3,Be4,Bg2,Bxg2,Kxg2,Rxe3,Kf2,Rde6,R1c2,R3e4,Rxc6,Rxc6,Rxc6,Re7,a4,Rd7,b4,Kf7,b5,Ke7,Ra6,c5,bxc6,Rc7,Kf3,Kd6,e4,Rxc6,Rxa7,Rc7,Ra8,Rc3+,Kf4', 'g5+,Kf5,Rf3#', 'https://lichess.org/training/sJ3Nr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sj4YL', 'Blitz', 'abdoshokeer', 1724, 'NYK_ViPeR', 1644, 'Nf3,Nf6,Nc3,g6,e4,d6,d4,Bg7,Be2,O-O,h4,Nbd7,h5,e5,hxg6,fxg6,Bc4+,Kh8,Ng5,exd4,Nd5,c6,Nxf6,Nxf6,Qf3,d5,exd5,cxd5,Bxd5,Qe8+,Kf1,Nh5,Rxh5,Rxf3', 'Rxh7#', 'https://lichess.org/training/Sj4YL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sj4ZT', 'Classical', 'kalpesh2385', 1694, 'George20000007', 1609, 'd4,d5,Bf4,Nc6,Nf3,f6,Nbd2,e5,dxe5,fxe5,Bg3,e4,Ng1,Bg4,f3,Bh5,fxe4,d4,Ndf3,Bxf3,exf3,Bb4+,c3', 'dxc3,Qxd8+,Rxd8', 'https://lichess.org/training/sj4ZT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJ8XM', 'Rapid', 'Gebruikersnaam', 1703, 'Norve1', 1701, 'e4,c6,d4,d5,e5,c5,Nf3,cxd4,Qxd4,Nc6,Qc3,Bg4,Bb5,Bxf3', 'Bxc6+,bxc6,Qxc6+,Qd7,Qxa8+', 'https://lichess.org/training/sJ8XM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sj9ap', 'Blitz', 'crxma', 1539, 'SakYant', 1522, 'd3,f5,e3,Nf6,Nc3,c6,e4,fxe4,Nxe4,e5,Nxf6+,Qxf6,h4,h5,Bg5,Qf7,Nf3,d6,Qd2,Be6,O-O-O,Nd7,Re1,Be7,d4,O-O-O,dxe5,Nxe5,Qa5,Kb8,Be3,c5,Nxe5,dxe5,Bxc5,Bxc5,Qxc5,Rd5,Qb4,Rhd8,Ba6,Rd4,Qb5,Ka8,Qxe5,bxa6,Qxe6,Qxf2,Rhf1', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1+,Rxd1,Rxd1#', 'https://lichess.org/training/Sj9ap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjb9V', 'Classical', 'Sir-Forksalot', 1741, 'salar421', 1734, 'd4,Nf6,Bf4,e6,a3,c5,Nf3,b6,Nc3,Bb7,Ne5,Nh5,Qd2,Qf6,e3,cxd4,Qxd4,Bc5,Qd2,g5,Bb5,Bc6,Bxc6,dxc6,O-O-O,O-O,Ne4,Qe7,Bxg5,f6,Bxf6,Nxf6,Qd3,Nxe4,Qxe4,Rxf2,Rhf1,Rxf1,Rxf1,Qg5,Kb1,Bxe3,Rf7,Qh6,Qd3,Bg5,Qd6,Na6,Qd7,Rd8,Qxc6,Rf8,Rxa7,Nb8,Qxb6,Rf1+,Ka2,Be3,Qd8+,Rf8,Ng4,Rxd8,Nxh6+,Bxh6,Re7,Rd6,Rb7,Nd7,c4,Kf7,b4,Rd2+,Kb3,Bg7,c5,Kg6,c6,Rb2+,Kc4,Ne5+,Kb5,Rc2,c7,Rc6,a4,Bf8,a5,Bd6,a6,Rxc7', 'Rxc7,Bxc7,a7', 'https://lichess.org/training/sjb9V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjBJC', 'Rapid', 'Marillion65', 1799, 'BouaklineN', 1832, 'd4,Nf6,Nf3,d6,Bf4,g6,Nbd2,Bg7,e4,Bg4,Bd3,O-O,h3,Nh5,Be3,Bxf3,Nxf3,f5,e5,dxe5,dxe5,f4,Bc5,Qd5,Ba3,Bxe5,c4,Qa5+,Ke2,Nc6,Qb3,Nd4+,Nxd4,Bxd4,c5+,Kh8,Rhc1,Ng3+,Kf3,Bxf2,Kxf2,Qd2+,Kg1,Qe3+,Kh2,f3,Bf1,Qf2,Rc2', 'Nxf1+,Rxf1,Qxf1', 'https://lichess.org/training/sjBJC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJBSG', 'Rapid', 'ncmKuttu', 1899, 'KnightedJames', 1891, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,a6,Bc4,Bg7,Qd2,O-O,Bh6,Nc6,Bxg7,Kxg7,h4,Bg4,f3,Bd7,g4,Ne5,Be2,Qa5,h5,Qb6,hxg6,fxg6,Qh6+,Kf7,O-O-O,Rh8,Qf4,Ke8,g5,Nh5,Qd2,Ng3,Rh6,Nxe2+,Qxe2,a5,Qh2,Kd8,Rxh7,Rxh7,Qxh7,Kc7,f4,Nc4,Qxe7', 'Qxb2#', 'https://lichess.org/training/SJBSG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjcEz', 'Rapid', 'oeil', 1861, 'Politolog02', 1848, 'e4,c5,Nf3,Nc6,c3,d6,Bc4,e6,O-O,Nge7,Re1,g6,d4,Bg7,dxc5,dxc5,Qxd8+,Nxd8,Ng5,O-O,Be3,b6,a4,Ndc6,Bb5,Bb7,Nd2,Ne5,a5,Ng4,axb6,axb6,Rxa8,Rxa8,Bf4,e5,Bg3,Ra2,Nc4,f6,Ne6,Bc6,Bxc6,Nxc6,Nxg7,Kxg7,f3,Nh6,Rd1,b5,Rd7+,Nf7,Nd6,Nd8,Nxb5,Rxb2,Nd6,Rb6,Kf1', 'Rxd6,Rxd6,Nxd6', 'https://lichess.org/training/sjcEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJcrz', 'Rapid', 'AV110', 1903, 'Namewildo', 1961, 'e4,d6,Bc4,e5,Qh5,Qf6,Nf3,g6,Qg5,Qxg5,Nxg5,Nh6,Nc3,f6,Nf3,Bg7,Nd5,Kd7,d3,c6,Bxh6,cxd5,Bxg7,dxc4,Bxf6,Rf8,Bh4,cxd3,cxd3,b6,Ng5,h6,Nh7,Rf7,Nf6+,Ke6,Nd5,g5,Bg3,Ba6,Rc1,h5,h4,g4,Nc7+,Rxc7,Rxc7,Nd7,Ke2,Nc5,Rd1,Nxe4,Rh7,Nf6,Rh6,Rc8,f3,Rc2+,Ke3,Rxg2,Bf2,Kf5,fxg4+,Rxg4,Kf3,Rf4+,Ke2,d5,Rc1,Re4+,Kd2,Rf4,Be1,Rf3,Rc6,Rxd3+,Kc2,Ne4,Rxh5+,Kg4,Rxe5,Re3,Rg6+,Kf3,Bc3,Bd3+,Kd1,Nf2+,Kc1,Be4,Rf6+,Ke2,h5', 'Nd3+,Kc2,Nxe5+', 'https://lichess.org/training/sJcrz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SjE7d', 'Blitz', 'Conr77', 1959, 'Jonatan1986', 1877, 'e4,c5,Nc3,d6,Bc4,Nf6,Nge2,Nc6,O-O,a6,a4,g6,d3,Ne5,Bb3,Bg7,Bg5,O-O,h3,Rb8,f4,Ned7,f5,b5,fxg6,hxg6,axb5,axb5,Nf4,Ne5,Ncd5,c4,Ba2,Nxd5,exd5,Bb7,d4,Nd7,c3,Nf6,Bxf6,Bxf6,b3,cxb3,Bxb3,Ra8,Rxa8,Qxa8,Qg4,Qc8,Qg3,Ba6,Bc2,b4,Nxg6,fxg6', 'Qxg6+,Bg7,Qh7#', 'https://lichess.org/training/SjE7d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJEjd', 'Rapid', 'MrElk', 1777, 'archie_mobile', 1753, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,Nxd4,Qxd4,d6,Nc3,e5,Qd5,Nf6,Qd3,h6,Be2,a6,O-O,Be7,Nd5,Bd7,Nxe7,Qxe7,Rd1,Bb5,Qe3,Bxe2,Qxe2,O-O,f4,Rad8,f5,Qc7,b3,Rc8,c4,b5,cxb5,axb5,Ba3', 'Qa7+,Kh1,Qxa3', 'https://lichess.org/training/sJEjd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjElW', 'Rapid', 'reynoldmackey', 1723, 'Barny_Dj', 1681, 'e4,e5,f4,Nc6,Nf3,exf4,d4,Bb4+,c3,Ba5,Bc4,Qe7,Bxf4,Qxe4+,Qe2,Nf6,Bxf7+,Kxf7', 'Ng5+,Kg6,Nxe4', 'https://lichess.org/training/sjElW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJeqY', 'Rapid', 'ara777', 1716, 'devapriyan', 1840, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bc4,h6,d3,Bc5,Nd5,Ng4,O-O,O-O,h3,Nxf2,Rxf2,Bxf2+,Kxf2,Nd4,Nxd4,exd4,Kg1,c6,Nb4,d6,c3,dxc3,bxc3,Kh8,Qh5,Be6,Bf4,Bxc4,dxc4,Qf6,Rf1,Qxc3,Bxd6', 'Qd4+,Rf2,Qxd6', 'https://lichess.org/training/SJeqY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJGcm', 'Blitz', 'GM pozvonochek', 2757, 'Aciboba', 2707, 'd4,e5,dxe5,d6,e4,Nc6,Bb5,Bd7,exd6,Bxd6,Nf3,Qe7,Nc3,Nf6,O-O,O-O-O,Bg5,Kb8,Qe2,Rde8,Rfe1,h6,Bh4,g5,Bg3,Bxg3,hxg3,Qc5,Qc4,Qb6,Na4,Qa5,Nc5,Be6,Nxe6,Rxe6,Bxc6,Rxc6,Qxf7,Qc5,Re2,Ng4,Qf5,Qc4,Rae1,h5,e5,Qc5,Qxg5,Re6,c3,a6,Nd4,Ree8,Nf3,Rhg8,Qxh5,Qd5,Qf5,Ref8,Qe4,Qe6,Nh4,Rh8,f3,Nh6,Ng6,Nf5,Nxf8,Rxf8,g4,Ng3,Qe3,Rh8,Rd2,Qe7,Red1,b6,g5,Kb7,Qf4,Qc5+,Rd4', 'Ne2+,Kf2,Nxf4', 'https://lichess.org/training/SJGcm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJgEK', 'Classical', 'DrIngenieur', 1616, 'binni69', 1689, 'd3,d5,Nf3,Bg4,Ne5,Bf5,e4,dxe4,dxe4,Qxd1+,Kxd1,Bxe4,Bc4,e6,Bb5+,c6,f3,Bxc2+,Kxc2,cxb5,Nc3,Nc6,Nxc6,bxc6,Rd1,Nf6,Bg5,Be7,Bxf6,Bxf6,Ne4,O-O,g4,c5,g5,Be5,Rg1,g6,Nf6+,Kg7,Nd7,Bxh2,Rg2,Rfd8,Rd1,Bf4,Rg4,Bc7,Rh4,a5,Nf6,Rh8,Rdh1,Be5', 'Rxh7+,Rxh7,Rxh7+,Kf8,Rh8+,Ke7,Rxa8', 'https://lichess.org/training/SJgEK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJI2r', 'Rapid', 'qulko', 2045, 'vivin', 1978, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Bxc6,bxc6,f4,Ne7,Nf3,cxd4,Nxd4,c5,Nf3,Nc6,Be3,Be7,O-O,O-O,Nbd2,f6,exf6,Rxf6,Qc2,Rc8,Ng5,Rh6,Ndf3,d4,Bd2,e5,fxe5,Nxe5,Nxe5,Bxg5,Nf7,Qc7,Nxh6+,Bxh6,Bxh6,gxh6,Rf7,Kxf7,Qxh7+,Ke6,Qg6+,Kd5,c4+,Kxc4,Rc1+,Kb5,a4+,Kxa4,Qa6+,Kb4,Rc4+,Kb3,Rc1,Kxb2,Qa1+,Kb3,Qb1+,Ka4,Qa2+,Kb5,Qc4+,Kb6,Rb1+,Kc6,Qa6+,Kd5,Rb7,Qc6,Qxa7,Rd8,Rc7,Qb5,Qa2+,c4,h3,d3,Qf2,Qb1+,Kh2,Qc2,Qf3+,Kd4', 'Qf6+,Ke3,Qxd8', 'https://lichess.org/training/sJI2r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJJVa', 'Rapid', 'Andiaxel', 2009, 'derTier', 2009, 'e4,c5,b4,cxb4,d4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,Nf6,a3,e6,h3,h5,c4,bxc3,Nxc3,Qf5,hxg4,hxg4,Ng5,O-O-O,Nxf7,Rxd4,Qxd4,Nxd4,Nxh8,Qc2,Be3,Nxe2+,Nxe2,Qxe2,Bxa7,Nd5,Rfc1+,Kd7,Ng6,Bd6,Rab1,b5,g3,Qe4,Nh4,Bxa3,Rd1,b4,Bd4,g5,Ng2,e5,Bxe5,Ke6,Bh8,Kf5', 'Rxd5+,Qxd5,Ne3+,Ke4,Nxd5', 'https://lichess.org/training/SJJVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sjlo6', 'Rapid', 'AbadhaDil', 1855, 'capitanalmendra', 1845, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qh4,Nd5,Bc4,Ndb4,Bb3,Bg7,Bf4,O-O,a3,Na6,Nc3,Nc5,Ba2,Ne6,Bh6,a6,O-O-O,b5,Nd5,Re8,Rhe1,Bb7,c3,Na5,Ng5,Nxg5,Bxg5,Bxd5,Rxd5,Qc7,Bxe7,Nc4,Rc5,Qb6,Bxc4,bxc4,Rxc4,Qe6,Bd6,f6,Rb4,Qa2,f4,Re6,g4,Rae8,g5,fxe5,fxe5,Bxe5,Bxe5,Rxe5,Rd1,Re2,Qc4+,Qxc4,Rxc4,Rxh2,Rxd7,Re1+,Rd1,Ree2,Rb4,Rhg2,Rd8+,Kf7,Kd1,Rxb2,Rxb2,Rxb2,Rd7+,Kg8,Ra7,Rg2,Rxa6,Rxg5,a4,h5,a5,h4,Ra8+,Kf7,a6,h3,a7,Rd5+,Ke2,h2,Rh8,Ra5,a8=Q', 'Rxa8,Rxa8,h1=Q', 'https://lichess.org/training/Sjlo6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJM6c', 'Rapid', 'Lucasvinnik', 1684, 'blkbr', 1749, 'd4,e5,dxe5,Nc6,Nf3,Qe7,e4,Nxe5,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/sJM6c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SjMMB', 'Rapid', 'Machine_x', 1967, 'panriver1905', 2047, 'e4,c5,c3,d6,d4,cxd4,cxd4,g6,Nf3,Bg7,Nc3,Nd7,Be3,e5,d5,Ne7,Qd2,O-O,h4,f5,g3,Nf6,Bg2,Ng4,h5,Nxe3,Qxe3,fxe4,Nxe4,Nxd5,Qb3,Qa5+,Nc3,e4,Qxd5+,Qxd5,Nxd5,exf3,hxg6,fxg2', 'Ne7+,Kh8,Rxh7#', 'https://lichess.org/training/SjMMB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJmT4', 'Rapid', 'peoncaminante1', 1724, 'daniel921126', 1746, 'e4,c5,f4,Nc6,Nf3,e6,c3,d5,e5,d4,d3,Nge7,Be2,Nd5,O-O,Be7,c4,Nc7,a3,Bd7,Nbd2,b5,b3,bxc4,bxc4,O-O,Ne4,Rb8,Bd2,Na6,Qc2,Qc7,Rfb1,f5,exf6,Bxf6,Rb2,e5,Rab1,Rxb2,Rxb2,exf4,Nxf6+,Rxf6,Qb1,Bc8,Ng5,h6,Ne4,Rg6,Bf3,Ne5,Kf2,Qe7,Bxf4,Nxf3,gxf3,Bd7,Re2', 'Qh4+,Bg3,Rxg3,Nxg3,Qxh2+,Ke1,Qxg3+', 'https://lichess.org/training/SJmT4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjMYK', 'Blitz', 'JovanPavicevic', 2132, 'sabri99999', 2078, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,a3,Bd7,b4,cxd4,cxd4,a6,Nc3,Nge7,Bb2,Nf5,Na4,Qc7,Bd3,Be7,O-O,g5,Bxf5,exf5,Re1,Be6,Nc5,g4,Nd2,b6,Na4,O-O,Rc1,Qb7,Nf1,Kh8,Qd2,Rg8,Rc2,Bg5,Qe2,Rac8,Bc1,Nxd4,Qd3,Nxc2,Bxg5,Nxe1,Bf6+,Rg7,Qe3,Nf3+,gxf3,gxf3+,Qg5,Rg8,Ng3,Qc8,Nh5,h6', 'Bxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/sjMYK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJnb2', 'Classical', 'MalMax', 1984, 'jogo17', 1943, 'b4,d5,Bb2,e6,a3,Nf6,Nf3,g6,d3,Bg7,Nbd2,O-O,g3,Bd7,Bg2,Ba4,O-O,Nc6,e4,dxe4,Nxe4,Nxe4,Bxg7,Kxg7,dxe4,Qxd1,Raxd1,Bxc2,Rd7,Rac8,Ng5,Ne5', 'Nxe6+,Kg8,Nxf8', 'https://lichess.org/training/sJnb2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJNHT', 'Blitz', 'doute', 1879, 'DrHamedIR', 1677, 'c4,d5,cxd5,e6,dxe6,Bxe6,Nc3,Nf6,g3,Nc6,Bg2,Bb4,Nf3,O-O,O-O,h5,d4,Nd5,e4,Bxc3,bxc3,Nxc3,Qd3,Nxe4,Qxe4,Re8,Bg5,f6,Bf4,Bd5,Qd3,Na5,Rae1,Bc4,Qc3,Bxf1,Rxe8+,Qxe8,Qxa5,Bxg2,Kxg2,b6,Qd5+,Kh8,Bxc7,Rc8,Bf4,g5,Nxg5,fxg5,Be5+,Kh7,Qb7+,Kg6', 'Qg7+,Kf5,Qf6+,Ke4,Qf3#', 'https://lichess.org/training/SJNHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjnhW', 'Rapid', 'dirtnap1337', 2001, 'EwigesTalent', 2480, 'e4,c5,c4,Nc6,Nc3,e6,g3,Nf6,Bg2,d5,cxd5,exd5,exd5,Nb4,Qa4+,Bd7,Qd1,Bf5,Nge2,Nc2+,Kf1,Nxa1,d3,c4,Qa4+,Qd7,Qxc4,Rc8,Qf4,Bxd3', 'Qe3+,Be7,Qxd3', 'https://lichess.org/training/sjnhW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SjNsr', 'Blitz', 'r0drigo1986', 1639, 'jackcarter', 1741, 'g3,d5,Bg2,c5,Nf3,Nc6,d3,e6,Bg5,Nf6,Nc3,Be7,O-O,O-O,Re1,b6,e4,dxe4,Nxe4,Bb7,a3,Rb8,Bf4,Rc8,Qe2,Nd5,Bg5,Bxg5,Nexg5,Nd4,Qd1,Nxf3+,Nxf3,Qf6,Ne5,Qg5,c4,f6,cxd5,fxe5,dxe6,Bxg2,Kxg2,Rce8,Qb3,Kh8,Re4,Qf5,Rf1,Rxe6,Qd5,Rh6,Rxe5', 'Qh3+,Kg1,Qxh2#', 'https://lichess.org/training/SjNsr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjnyg', 'Classical', 'nartakal', 1907, 'miguehs', 1895, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,b5,a3,Be7,Be2,O-O,O-O,Bd7,f3,Nc6,Kh1,Rb8,Nd5,Nxd5,Qxd5,Rc8,Rac1,Qc7,Rfd1,Be6,Qd2,Rfd8,Qe1,d5,exd5,Bxd5,Qf2,Qb7,Bb6,Rd7,Bc5,Nd4,Bxd4,exd4,Nxd4,Bc5,Qh4,Be7,Qg4,Rcd8,Nf5,Bf6,b3,Kh8,h4,Be6,Qf4,Qb6,Ne3,Bxh4,Qxh4,Qxe3', 'Qxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/sjnyg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJoUk', 'Rapid', 'marcbouhana58', 1673, 'Crazybravechicken', 1816, 'e4,e5,Nc3,d6,Bc4,Nf6,Nf3,Be7,h3,h6,d4,exd4,Qxd4,Nc6,Qd2,O-O,a3,Ne5,Nxe5,dxe5,Qxd8,Rxd8,O-O,a6,Bd3,b5,b4,Bb7,f3,c5,bxc5,Bxc5+,Kh1,Bd4,Bb2,Nh5,Kh2,Nf4,Rab1,Nxd3,cxd3,Bxc3,Bxc3,Rxd3,Bxe5,Rxa3,Ra1,Rd3,Rad1,Rad8,Rxd3,Rxd3,Rb1,f6,Bf4,g5,Bc7,Rc3,Bd6,Kf7,Bb4,Rc4,Ba5,Rc5,Bb4,Rc7,Bd6,Rd7,Bb4,Ke6,Kg3,f5,exf5+,Kxf5,Bf8,h5,Rc1,h4+,Kh2,Rd8,Be7,Rc8,Rd1,a5,Re1,a4,Bd6,Rc4,Re5+,Kg6,Rxb5,Bc6,Rb6,Rc2,Be7,Kf5,Ra6,Bxf3', 'Rf6+,Ke4,Rxf3', 'https://lichess.org/training/SJoUk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjOVQ', 'Rapid', 'Roman59', 1845, 'YourNemesis', 1802, 'e4,e5,Nf3,f5,exf5,e4,Ne5,Nf6,Nc3,d6,Ng4,Bxf5,Nxf6+,Qxf6,Bc4,c6,d3,d5,dxe4,dxc4,exf5,Qe5+,Be3,Nd7,Qh5+,g6,Qh3,Qxf5,Qxf5,gxf5,Bg5,Rg8,Bh4,Rxg2,O-O-O,Rg4', 'Rhe1+,Kf7,Rxd7+', 'https://lichess.org/training/sjOVQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJPPt', 'Classical', 'Camille19', 1737, 'gdeshmukh13', 1731, 'e4,c5,d3,Nc6,Nc3,d6,Nf3,e5,h3,Nf6,Bg5,h6,Bh4,Be7,Be2,O-O,g4,Nd4,g5,Nh5,Nxd4,exd4,Nd5,Bxg5', 'Bxg5,hxg5,Bxh5', 'https://lichess.org/training/sJPPt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJPZL', 'Rapid', 'DekaL', 1778, 'El_profeta1', 1812, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Nf3,Nf6,Bc4,e6,O-O,Be7,Qe2,O-O,Bg5,d5,exd5,Nxd5,Bxd5,Bxg5,Bc4,Nc6,Rad1,Qe7,Rfe1,Bf6,Qe4,Bxc3,bxc3,Qa3,Qc2,Rb8,h4,b5,Bd3,h6,Re3,Bb7,c4,Nb4', 'Bh7+,Kh8,Rxa3,Nxc2,Bxc2', 'https://lichess.org/training/SJPZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJqDT', 'Classical', 'DAS2604', 1648, 'Homa-hb', 1682, 'e4,e5,f4,Nc6,Nf3,f6,fxe5,fxe5,Bc4,Bc5,Nxe5', 'Qh4+,g3,Qxe4+', 'https://lichess.org/training/sJqDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJqfO', 'Rapid', 'mowait', 1652, 'Udgin', 1767, 'e4,e5,Nc3,Nf6,a3,Bd6,Nf3,Nc6,Be2,O-O,O-O,Qe7,b3,b6,Bb2,Bb7,Re1,Nd4,Bd3,Nxf3+,Qxf3,c5,Nd1,a6,c4,b5,Rc1,Bc7,Ne3,d5,Nxd5,Bxd5,cxd5,Ba5,Re2,Rac8,Bc2,c4,d4,cxb3,Bxb3,Rxc1+,Bxc1,exd4,h3,Rc8,Bd2,Bxd2,Rxd2,Rc3,Rd3,Rc1+,Kh2,Qe5+,g3,Nxe4,Qg4,Rh1+,Kg2,f5,Qh4,g5,d6+,Kg7,Qh5,Qf6,Rxd4,Rb1,Be6,Qxe6', 'd7,Rb2,d8=Q,Rxf2+,Kg1', 'https://lichess.org/training/SJqfO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sjrl4', 'Rapid', 'Ahmadkassem', 1930, 'Hamid_Youssef_2020', 1915, 'e4,d6,Nf3,g6,b3,Bg7,d4,c5,Bb2,Nc6,Nbd2,cxd4,Nc4,e5,Bd3,h6,Ba3,Be6,Nxd6+,Kd7,Bb5', 'Qa5+,c3,Qxa3', 'https://lichess.org/training/Sjrl4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJSuN', 'Rapid', 'JibGir', 1964, 'glorre', 1751, 'e4,c5,d4,cxd4,Nf3,Nc6,c3,d3,Bxd3,d6,O-O,Nf6,h3,e6,Bg5,Be7,Nbd2,O-O,Re1,Ne5,Nxe5,dxe5,Nf1,Qb6,Qe2,Bd7,Ng3,h6,Bxf6,Bxf6,Qg4,g6,Kh2,Bg7,f4,exf4,Qxf4,Rad8,Rab1,e5,Qf3,Ba4,b3,Bd7,Bc4,Qc6,Bd5,Qc7,c4,b5,h4,b4,h5,g5,Nf5,Bxf5,exf5', 'e4+,Qg3,Be5,Qxe5,Qxe5+', 'https://lichess.org/training/SJSuN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJtaT', 'Blitz', 'castanedastral', 2529, 'IM Chessibague', 2493, 'Nf3,d5,d4,Nc6,g3,Bg4,Bg2,Qd7,h3,Bf5,c4,dxc4,Nc3,e6,e4,Bg6,O-O,O-O-O,Be3,Nf6,Ne5,Nxe5,dxe5,Qxd1,Rfxd1,Rxd1+,Rxd1,Nd7,f4,Bc5,Kf2,Rd8,g4,Bxe3+,Kxe3,f6,exf6,gxf6,Rd4,e5,Rxc4,exf4+,Kxf4,Ne5,Ra4,a6,Nd5,Rd6,Rd4,Kd8,g5,Nd7,gxf6,Nxf6,e5,Nxd5+,Bxd5,Rd7,e6,Rd6,Ke5,Ke7,Rb4,b5,Rf4,c6,Bb3,a5,a3,Rd3,Bc2', 'Rd5#', 'https://lichess.org/training/SJtaT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJtDO', 'Classical', 'Hitra187', 1953, 'mgd202020', 1823, 'e4,e5,Nf3,d6,Bc4,h6,d4,f6,Nh4,Ne7,Qh5+,g6,Nxg6,Nxg6,Qxg6+,Kd7,dxe5,fxe5,Qe6+,Kc6,Qd5+,Kd7,Nc3,c6,Qd3,b5,Bxb5,cxb5,Qxb5+,Nc6,Be3,Qa5,Qe2,Rb8,Qg4+,Kc7,Qg6,Rxb2,Bd2,Rxc2', 'Nd5+,Qxd5,exd5', 'https://lichess.org/training/SJtDO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJTpd', 'Rapid', 'Davidariel_2200', 1746, 'VovMak', 1905, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,d6,Nc3,Bg4,Be2,Nf6,O-O,Be7,Bg5,O-O,Re1,a6,h3,Bh5,Be3,Rc8,Rc1,b5,a3,Na5,Nd2,Bxe2,Qxe2,Nc4,Nxc4,Rxc4,Nd5,Rxe4,Nxe7+,Qxe7,b3,Nd5,Qf3,f5,Qd1,Nxe3,fxe3,f4', 'Qd5+,Kh8,Qxe4', 'https://lichess.org/training/sJTpd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sjtsl', 'Rapid', 'Haim_Shalev', 1638, 'Mahirgoel', 1610, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Be2,Nge7,Nf3,d5,exd5,Nxd5,Nxd5,exd5,Ng5,Be7,Nf3,O-O,Bd3,Bg4,Bd2,Re8,O-O,Bf6,c3,d4,cxd4,Nxd4,Bb1,Nxf3+,gxf3,Bh3,Re1,Bg5', 'Rxe8+,Qxe8,Bxg5', 'https://lichess.org/training/Sjtsl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sju1c', 'Classical', 'Kloppo09', 1769, 'DmVl', 1794, 'c4,c5,Nc3,b6,Nf3,Nf6,e4,d6,g3,e5,Bg2,Nc6,d3,Rb8,Bg5,Be7,Bxf6,Bxf6,Nd5,O-O,O-O,Bg4,h3,Be6,a3,Be7,Qd2,h6,Rab1,Qd7,h4,Bd8,b4,Ne7,Rb2,cxb4,axb4,f5,exf5,Bxf5,Re1,Nxd5,cxd5,Bh3,Bh1,Qg4,Re4,Qg6,Kh2,Bf5,Rc4,Bxd3,Rc6,b5', 'Nxe5,dxe5,Rxg6', 'https://lichess.org/training/sju1c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjUkJ', 'Blitz', 'UPu36ESM', 1700, 'alpha110695', 1723, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Nc3,Nc6,Bb5,Bg4,Bxc6+,bxc6,O-O,e6,Ne4,Bd6,c4,Nb6,c5,O-O,b4,Nc4,cxd6,cxd6,Qb3,d5,Ng3,e5,d3,Bxf3,gxf3,Nb6,Bb2,h5,Nxh5,Qg5+,Ng3,f6,Kh1,Kf7,Rg1,Qh4,Rg2,Rh8,Nf5,Qh3,Nd6+,Ke6,Ne4,Qxf3,Nc5+,Kd6,Rg1', 'Rxh2+,Kxh2,Rh8#', 'https://lichess.org/training/sjUkJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJwCL', 'Blitz', 'matecalmo', 1687, 'ManuelW', 1700, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,Nf6,e3,O-O,Bd3,Nbd7,O-O,Bxc3,bxc3,c6,cxd5,cxd5,Ba3,Re8,c4,e5,dxe5,Nxe5,cxd5,Bg4,d6,Nxd3,Qxd3,Bxf3,gxf3,Nd7,Rac1,Ne5,Qf5,g6,Qh3,Qf6,f4,Nd7,Rc7,Rad8,Rxb7,Nb6,d7,Re7,Bxe7,Qxe7,Rc1,Nxd7,Rxd7,Rxd7,Rc8+,Kg7,e4', 'Rd1+,Kg2,Qxe4+,Qf3,Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/sJwCL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sJWw1', 'Rapid', 'fischerman', 1722, 'kaj21', 1609, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,Nf6,Re1,g6,c3,Bg7,d4,cxd4,cxd4,Qb6,Nc3,Bg4,d5,Ne5,Be3,Qxb2,Bb5+,Bd7,Bxd7+,Nfxd7,Bd4,Rc8,Re2,Qb4,a3,Qc4,Ne1,O-O,Rc1,Ng4,Bxg7,Kxg7,Rec2,Qa6,Qxg4,Ne5,Qe2,Qxa3,Ra2,Qc5,Rac2,Qb4,Nd3,Nxd3,Qxd3,Rc5,Rb1,Qa5,Qd4+,Kg8,Rbc1,Rfc8,Qd3,Qc7,Nb5,Qb6,Nc3,a6,Na4', 'Rxc2,Rxc2,Qb1+', 'https://lichess.org/training/sJWw1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sjx7k', 'Blitz', 'Tober_KBPL', 1961, 'OverlordPeter', 1648, 'e4,d5,exd5,c6,dxc6,Nxc6,Nc3,Bf5,d3,Nf6,h3,e6,Nf3,Bd6,g4,Bg6,Bg2,h5,g5,Nd7,Be3,Qc7,Qd2,Bb4,O-O-O,a5,Kb1,a4,a3,Bd6,Nb5,Qb8,Qc3,O-O,Nh4,Be7,Nxg6,fxg6,h4,Rc8,Qd2,Kh7,Rde1,b6,Bf4,Qb7,Rxe6,Ndb8,Be4,Bxa3,bxa3,Qd7,Rxg6,Kh8,Qe2,Nd4,Qxh5+,Kg8,Rd6', 'Qxb5+,Kc1,Rxc2+,Kd1,Qb1+,Bc1,Qxc1#', 'https://lichess.org/training/Sjx7k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SjXMG', 'Bullet', 'blobux', 2280, 'Yanakaperth1', 2141, 'd4,c5,d5,Nf6,Nc3,g6,e4,Bg7,e5,Ng8,f4,d6,Nf3,Bg4,Bb5+,Nd7,Qe2,a6,e6,axb5,exf7+,Kxf7,Ng5+,Ke8,Qxg4,Bxc3+,bxc3,Ngf6,Qe6,Nf8,Qe2,h6,Ne6,Nxe6,dxe6,Qa5,O-O,Qxc3,Bd2,Qxc2,Rac1,Qf5,Qxb5+,Kf8,Qxb7,Rxa2,Bc3,Qd5,Qc8+,Kg7', 'Bxf6+,Kxf6,Qxh8+,Kf5,Qf8+,Kg4,h3+', 'https://lichess.org/training/SjXMG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJYe7', 'Rapid', 'vidoniak', 2314, 'PsoyKorolenko', 2155, 'd4,Nf6,Nf3,d5,c4,e6,g3,Bb4+,Nbd2,O-O,Bg2,c5,cxd5,exd5,O-O,c4,Qc2,Nc6,b3,c3,Nb1,Ne4,a3,Ba5,b4,Bb6,Be3,Bf5,Nh4,Qf6,Nxf5,Qxf5,Nxc3,Nxd4,Bxd4,Bxd4,Nxd5', 'Bxf2+,Rxf2,Qxf2+', 'https://lichess.org/training/SJYe7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sjyhr', 'Rapid', 'KaharianDangal', 1780, 'Hauser878', 1766, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,d4,Bg4,Ba4+,Nc6,Qd3,e6,a3,Qb6,Ne2,Bd6,O-O,O-O,Nbc3,Bxe2,Qxe2,Nxd4,Qd3,Nf5,Bg5,Be5,Bxf6,Bxf6,Nxd5,exd5,Qxf5,Qxb2,Bb3,Qxa1,Rxa1,Bxa1,Bxd5,Rae8,Be4,g6,Qf3,Re5,h4,Rfe8,Bd3,Re1+,Kh2,Be5+,g3,Bd4,h5,R8e5,hxg6,hxg6,Qxb7,Bxf2,Bc4,Rf5,g4,Rf4', 'Qb8+,Kg7,Qxf4', 'https://lichess.org/training/Sjyhr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjYNt', 'Rapid', 'sasan1975', 1809, 'jugador1000', 1793, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nf3,h6,h3,cxb2,Bxb2,Nc6,O-O,Be6,Bxe6,fxe6,Nh2,e5,Qh5+,Kd7,Qf5+,Ke7,f4,Qd7,Qh5,Qe8,Qh4+,Nf6,fxe5,Nxe5,Nd2,Qh5,Qf4,Qg5,Qf2,Kd7,Bxe5,dxe5,Nc4,Bd6,Rad1,Rhf8,Nf3,Nxe4,Ncxe5+,Qxe5,Nxe5+,Ke6,Qd4,Rxf1+,Rxf1', 'Bc5,Qxc5,Nxc5', 'https://lichess.org/training/sjYNt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjytT', 'Rapid', 'wechtr', 1688, 'adrianVG', 1656, 'e4,c5,f4,e5,fxe5,f6,Nf3,Nc6,exf6,Nxf6,d3,d6,Be2,Be7,O-O,O-O,c4,h6,h3,a6,a3,b5,Be3,bxc4,dxc4,Bd7,Nc3,Qc8,b4,cxb4,axb4,g5,Nxg5,hxg5,Bxg5,Bxh3,b5,Nd4,Rxa6,Rxa6,bxa6,Nxe2+,Qxe2,Bg4,Qa2', 'Qc5+,Qf2,Qxg5', 'https://lichess.org/training/sjytT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SJzNu', 'Classical', 'astra22', 1701, 'francescotoddy0613', 1773, 'e4,c5,d3,Nc6,Be3,d6,Nf3,Qc7,Nc3,Nf6,Bg5,e6,Bxf6,gxf6,Nb5,Qa5+,Nc3,Qc7,Qd2,a6,d4,h5,dxc5,dxc5,a3,Bd7,O-O-O', 'Bh6,Qxh6,Rxh6', 'https://lichess.org/training/SJzNu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sjZtS', 'Rapid', 'MGGM1200', 1777, 'Dan2017', 1796, 'c4,e5,Nc3,Bc5,d3,Nf6,g3,Ng4,Ne4,Bb6,c5,Ba5+,Bd2,Bxd2+,Qxd2,d5,Nc3,Qf6,Nf3,c6,h3,Nh6,Bg2,Na6,Na4,Nf5,O-O,Nd4,Nxd4,exd4,e3,O-O,e4,Nc7,exd5,Nxd5,Rae1,Qg6,Kh2,Qh5,Re4,Nf6,Rxd4,Ng4+,Kg1,Ne5,Rh4,Qg6,Be4', 'Qxe4,dxe4,Nf3+,Kg2,Nxd2', 'https://lichess.org/training/sjZtS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sk0n3', 'Rapid', 'mousaie1337', 1840, 'go2368', 1898, 'g3,d5,Bg2,e5,d3,Nf6,Nf3,Bd6,O-O,O-O,c3,c6,b4,a5,a3,axb4,cxb4,e4,dxe4,dxe4,Ng5,Bxb4,Bb2,Be7,Nxe4,Nxe4,Bxe4,Bh3,Bg2,Bxg2,Kxg2,Nd7,Nc3,Bf6,Rb1,b5,Qd6,Nb8,Ne4,Qxd6,Nxd6,Bxb2,Rxb2,Rxa3,e3,Rd8,Nb7,Rd5,Rc1,Ra7,Nc5,h6,e4,Rg5,h4,Rg6,Nd3,Re6,f3,Kh7,Nf4,Re5,Nd3,Ree7,g4,f6,Re1,Ra3,Rd2,Rd7,Red1,Na6,e5,fxe5,Nxe5,Rxd2+,Rxd2,c5,h5,Re3,f4,b4,Rd6,Ra3,Nc4,Ra2+,Kf3,b3,g5,b2,Nxb2,Rxb2', 'g6+,Kh8,Rd8#', 'https://lichess.org/training/sk0n3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sk1yl', 'Rapid', 'Rimbar', 1701, 'lotus111', 1846, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Ne7,Bg5,Nc6,Qd5,Be7,Bc4,O-O,Bf4,Nb4,Qd2,c6,a3,Na6,Nc3,Nc5,b4,Ne6,Bd6,Ng5,f4,Ne6,O-O,Qb6+,Kh1,Qd8,f5,Ng5,e5,b5,Ba2,Bxd6,Qxd6,Bb7,f6,g6,h4,Ne6,Ne4,c5,Nxc5,Nxc5,bxc5,Qa5,Qxd7,Rab8,e6,Qc3,Rad1', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/sk1yl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sK2PM', 'Rapid', 'Fbirbilen', 1742, 'janetkune', 1753, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,Nc6,d5,Ne5,Nf3,Ng6,Bxc4,Bd7,O-O,e6,dxe6,fxe6,e5,Ng4,h3,N4xe5,Nxe5,Nxe5,Bb5,Bd6,Bxd7+,Qxd7,Re1,O-O', 'Rxe5', 'https://lichess.org/training/sK2PM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SK3gW', 'Blitz', 'Faraona', 1831, 'reylopezmalaga', 1819, 'd4,Nf6,e3,e6,Nf3,d5,Bd3,c5,b3,cxd4,exd4,Nc6,a3,Be7,Nbd2,O-O,Bb2,a6,O-O,b5,Qe2,Bb7,Rae1,Qc7,Ne5,Rae8,f4,b4,a4,a5,Rf3,Qb6,Rh3,Nxd4,Bxd4,Qxd4+,Kh1,Qxf4,Bxh7+,Nxh7,Qh5,Qh6,Qf3,Qf6,Qh5,Qh6,Qe2,Qf6,Rf1,Qg5,Rg3,Qh6,Rh3,Qg5,Ndf3,Qf5,Nh4,Qe4,Qh5,Ng5,Qh8+,Kxh8', 'Nhg6+,Kg8,Rh8#', 'https://lichess.org/training/SK3gW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sk49i', 'Blitz', 'LNDavout', 1599, 'hase38', 1582, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qc7,Bd3,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,e6,O-O-O,Be7,Rhe1,O-O,Ne4,Nbd7,Bf4,Qa5,Kb1,b5,g4,Nd5,Bg5,f6,Bd2,Qa6,h4,Nb4,Bxb4,Bxb4,Rg1,Qb6,c3,Be7,g5,f5,Nc5,Bxc5,dxc5,Nxc5,h5,Rad8,g6,h6,Qe2,Nxd3,Rxd3,Rxd3,Qxd3,Qxf2,Rd1,Qb6,Qd6,Re8,Qd7,Qb8,Qf7+,Kh8,Rd7,Rg8,Rxa7,Qh2', 'Qxg8+,Kxg8,Ra8+,Qb8,Rxb8#', 'https://lichess.org/training/Sk49i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sK4N2', 'Classical', 'DmitryBunny', 1667, 'bsbchess79', 1657, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,h6,Bxc6,dxc6,Nxe5,Bd6,Nf3,Qe7,Re1,Bg4,h3,Bxf3,Qxf3,Qe5,g3,O-O-O,d3,Kb8,Nc3,g5,Be3,g4,hxg4,h5,Qf4,Qe6,Qf5,Qe7,Bg5,Be5,Re3,Bd4,Rf3,hxg4,Rf4,Qd6,Bxf6,Bxf6,Qxf6,Qc5,Rxg4,Qh5,Qh4,Qc5,Qg5,Qb4,Rb1,c5,Nd5,Qa4,Qc1,c6,Nc3,Qd4,Qf4+,Ka8,Qxf7,Rdf8,e5', 'Qxg4,Qxf8+,Rxf8', 'https://lichess.org/training/sK4N2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SK5QZ', 'Blitz', 'GOATCaruso', 2432, 'Bulletking179', 2483, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,g4,b5,g5,Nfd7,Rg1,Bb7,a3,Nb6,h4,N8d7,h5,g6,Bh3,Nc5,b4,Nxe4,Nxe4,Bxe4,Bxe6,fxe6,Nxe6,Qd7,Nxf8,Rxf8,Bxb6,Qc6,Qd4,Ke7,Rg3,Rf3,Rxf3,Bxf3,Qg7+,Ke6,Qf6+,Kd7,Qf7+,Kc8,Ba5', 'Qc3+,Kf1,Qxa1#', 'https://lichess.org/training/SK5QZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sK6fh', 'Rapid', 'superalekma', 1799, 'gg25', 1821, 'c4,e5,Nc3,d6,g3,h6,Bg2,c6,Nf3,Nf6,e4,Be6,b3,Be7,O-O,O-O,d4,exd4,Nxd4,Nbd7,Nxe6,fxe6,Bb2,e5,Qd2,Nc5,f4,Nfd7,fxe5,Nxe5,Ne2,Bg5,Nf4,Bxf4,Rxf4,Rxf4,Qxf4,Ned3,Qd2,Qe7,Rf1,Nxb2,Qxb2,Nxe4,Re1,d5,cxd5', 'Qc5+,Kh1,Nf2+,Qxf2,Qxf2', 'https://lichess.org/training/sK6fh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sK7eI', 'Rapid', 'larryboy', 1782, 'lukso85', 1884, 'd4,f5,c4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,Nc3,Nbd7,Re1,e5,Bg5,f4,Nd5,fxg3,Nxf6+,Bxf6,Bxf6,Qxf6,fxg3,e4,Nh4,Qf2+,Kh1,Nf6,Rf1,Qe3,Rc1,Bg4,Rc3,Qxe2,Qxe2,Bxe2,Re1,Bd3,Bf1,Bxf1,Rxf1,Rae8,Rf4,e3,Nf3,Ng4,Rxf8+,Rxf8,h3,Nf2+,Kg2,Nxh3', 'Rxe3,Nf4+,gxf4', 'https://lichess.org/training/sK7eI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sk7K8', 'Rapid', 'Starfalou', 2189, 'ConwyCastle', 2283, 'e4,e5,Nf3,d6,Nc3,Nf6,d4,exd4,Nxd4,Be7,Be2,O-O,O-O,Nc6,Nxc6,bxc6,f4,d5,e5,Bc5+,Kh1,Ne4,Nxe4,dxe4,Qe1,f5,exf6,Rxf6,Bc4+,Kh8,Qxe4,Bf5,Qf3,Qe7,Bd2,Rh6,Rae1', 'Rxh2+,Kxh2,Qh4+,Qh3,Bxh3', 'https://lichess.org/training/Sk7K8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SK7nc', 'Rapid', 'sasha159ru', 1749, 'Kholmurod', 1659, 'Nf3,d5,b3,Nf6,Bb2,Nc6,e3,e5,Bb5,e4,Ne5,Bd7,Bxc6,bxc6,d3,Bd6,dxe4,Bxe5,Bxe5,Nxe4,O-O,Qg5,Bf4,Qf6,f3,Qxa1,fxe4,dxe4,c3,Qxa2,Bxc7,Rc8,Be5,O-O,Qxd7,Rcd8,Qxc6,Qxb3,Qxe4,Rfe8,Qf4,Rd3,Bd4,Rd1,Qg4', 'Rxf1+,Kxf1,Qxb1+', 'https://lichess.org/training/SK7nc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SK7rL', 'Rapid', 'hari93', 1716, 'no_fisherino', 1696, 'e4,c6,Nc3,d5,exd5,cxd5,Nf3,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,d3,e6,Ne5,Qd6,Nf3,Nc6,Nb5,Qc5,Nc7+,Kd7,Nxa8,Bd6,Be3,Qa5+,Bd2,Qc5,a3,Rxa8,O-O,b5,h3,a5,Ng5,Ne5,Nf3,a4,Nxe5+,Bxe5,c3,Qc7,d4,Bh2+,Kh1,Bf4,Bxf4,Qxf4,Qc1,Qf5,Qe3,Re8,Qe5,Ne4,Qxf5,exf5,f3,Nd2,Rfe1,Rxe1+,Rxe1,Nc4,Re2,g6,g4,f4,Kh2,Ne3,h4,h5,gxh5,gxh5,Kh3,f6,Kh2,Nf5,Kh3,Ng3,Rg2,Ke6,Rxg3,fxg3,Kxg3', 'Kf5,Kg2,Kf4,Kf2,f5,Ke2,Kg3', 'https://lichess.org/training/SK7rL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SK8lC', 'Classical', 'IM crusher64', 1873, 'elod72', 1846, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bb4+,Nc3,Qe7,Qd5,f6,exf6,Nxf6,Qd3,d6,e3,O-O,Be2,Ng4,O-O,Bf5,Qd2,h6,a3,Bxc3,Qxc3,Nge5,b4,g5,Bg3,h5,b5,h4,bxc6,Nxf3+,Bxf3,hxg3,hxg3,bxc6,Bxc6,Rad8,e4,Be6,f3,Rf6,Kf2,g4,f4,Qf7,Bd5,c6,Bxe6,Qxe6,Rad1,Re8,Rfe1,Qe7,e5,dxe5,Rxe5', 'Qxe5,Qxe5,Rxe5', 'https://lichess.org/training/SK8lC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sK8wf', 'Rapid', 'matgever', 2123, 'zeitgeist_kaal', 1949, 'e4,c5,b4,Nc6,bxc5,e5,c3,Bxc5,Bc4,Nf6,d3,O-O,Nf3,d5,exd5,Nxd5,O-O,Bg4,Ba3,Bxa3,Nxa3,Nxc3,Qd2,Nd5,Ng5,Nf4,Ne4,Be2,Rfe1,Bxd3,Bxd3,Qxd3,Qxd3,Nxd3,Re2,Rfd8,Rb1,b6,h3,f6,Re3,Nf4,Rc1,Nb4,Rg3,Kf8,Rc7,Ne6,Rc4,Nxa2,Rb3,Rd1+,Kh2,Nc1,Rbc3,Ne2,Rc2,N2d4,R2c3,Ke7,Rg3,Ne2,Rc7+,Nxc7,Rxg7+,Kd8,Nxf6,Nf4,Rxh7,Rd6,Ne4,Rg6,g3,Nfe6,Nc4,Nf8,Rh8,Ne6,Nxe5,Rg7,f4,Ke7,f5,Nd4', 'f6+,Ke6,fxg7', 'https://lichess.org/training/sK8wf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sk95Q', 'Rapid', 'caroldanvers', 2128, 'YouHaveNoChance57', 2295, 'Nf3,Nf6,c4,e6,g3,c5,Bg2,Nc6,O-O,Be7,d4,d5,cxd5,exd5,Nc3,O-O,Bg5,Be6,Bxf6,Bxf6,dxc5,Bxc3,bxc3,Qa5,Qc2,Qxc5,Ng5,g6,Nxe6,fxe6,Rab1,b6,Rfc1,Rxf2,Kh1,Raf8,Qd3,Ne5,Qd4,Rxe2,Qxc5,bxc5,a4,Ref2,Bh3,Re2,Bxe6+,Kg7,Bxd5,Rd2,c4,Rff2,h4,Nf3,Bxf3,Rxf3,Rb7+,Kh6,Rxa7,Rxg3,a5,Kh5,Rxh7+,Kg4,h5,g5,Rg1,Kh3,Rxg3+', 'Kxg3,Rf7,Rd1+,Rf1,Rxf1#', 'https://lichess.org/training/sk95Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SkA9w', 'Classical', 'iiivad', 1833, 'jabdakim', 1841, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,Nf6,O-O,Bg4,h3,Bh5,d3,Be7,Bg5,O-O,Nbd2,Nc6,Qe2,Nd4,Qd1,d5,Bb3,Re8,g4,Nxb3,axb3,Bg6,Ne5,Qd6,Nxg6,fxg6,Qf3,Nd7,Bxe7,Qxe7,Rae1,Qg5,c4,Qxd2,Qxd5+,Kh8,Rxe8+,Rxe8,Qxd7,Rg8,Qxc7,Qxb2,Qxb7,Qc3,Qxa7,Qxd3,Qa4,Qxh3,Qc6,Qxb3,Kg2,Qb8,Rc1,Rc8,Qe4,Re8,Qc2,Qf4,f3,Rf8,Qc3,Re8,Rc2', 'Re3,Qxe3,Qxe3', 'https://lichess.org/training/SkA9w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('skapv', 'Classical', 'torrepajarete', 1835, 'aybuke61', 1882, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,Bg7,Be3,a6,Qd2,O-O,Bh6,Rc8,Bxg7,Kxg7,Rae1,Qb6,Nb3,Qc7,Rc1,Nc5,Nxc5,Qxc5,Kh1,b5,Rfe1,Ng4,Nd1,Ne5,Ne3,Nc4,Nxc4,Qxc4,Re3,Qxa2,Rh3,Qe6,Qh6+,Kf6,Qh4+,g5,Qh6+,Ke5,Qxg5+,f5,Qg3+,Kd4,Qd3+,Kc5,Qa3+,Kb6,Ra1,Ra8,Qa5+,Kb7,Rc3,Rfc8,exf5,Qxf5,Rb3,Qxc2,Rc3,Rxc3,bxc3,Qxf2,c4,Qb6,Qe1,Qc7,cxb5,axb5', 'Qe4+,Qc6,Qxc6+,Kxc6,Rxa8', 'https://lichess.org/training/skapv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKAwP', 'Rapid', 'Schloopka', 1650, 'Krass1', 1648, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,a5,Bf4,c6,Bc4,b5,Bxf7+,Kxf7,Qf3,Qf6,e5,Qe6,O-O,h6,Bxh6+,Ke8,Qh5+,Kd8', 'Bg5+,Kc7,Qxh8', 'https://lichess.org/training/sKAwP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKaXq', 'Rapid', 'AMMAR2012', 1632, 'Rudistein', 1627, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Qe2,Ndf6,Nxf6+,Nxf6,Bg5,Bf5,O-O-O,e6,Bxf6,Qxf6,Kb1,O-O-O,Qc4,Rd5,h3,g6,f3,g5,g4,Bg6,Bd3,Bxd3,Rxd3,Bg7,c3,Rhd8,Ne2,e5,Rhd1,Qe6,dxe5', 'Rxd3,Qxe6+,fxe6,Rxd3,Rxd3', 'https://lichess.org/training/sKaXq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SKBpo', 'Classical', 'Kalinych', 1636, 'BlackStorm758', 1674, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,e6,Nf3,Nc6,Nc3,Bb4,O-O,Bxc3,bxc3,O-O,Bd3,Re8,e4,e5,Re1,exd4,cxd4,Bg4,e5,Nxd4,exf6,Rxe1+,Qxe1,Bxf3,Bb2,Qxf6,Qe3,c5', 'Bxd4,cxd4,Qxf3,Qxf3,gxf3', 'https://lichess.org/training/SKBpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SkBTt', 'Blitz', 'Cbonfim125', 1561, 'Remember2check', 1591, 'e4,e5,d3,Nf6,Bg5,Bc5,Bxf6,Qxf6,Nf3,O-O,Nc3,Nc6,Be2,d6,O-O,Bg4,Nd5,Qd8,Nd2,Bxe2,Qxe2,Ne7,Nb3,Nxd5,exd5,Bb6,a3,f5,c4,f4,Kh1,a6,f3,Ba7,Nd2,Be3,Ne4,Rf5,a4,Rh5,b4', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/SkBTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SkcZi', 'Classical', 'arjunppp', 1715, 'irishman012', 1668, 'e4,c5,Nf3,d6,h3,a6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,c3,Bb7,Be2,Nf6,Bf3,Rb8,O-O,g6,Re1,Bg7,Be3,O-O,Bd4,c5,Bxf6,Bxf6,Na3,Bg7,Rb1,Qc8,Nc4,Rd8,Ne3,e6,c4,Bc6,b3,Qb7,Qe2,Qb4,Red1,a5,Rd3,Bd4,Nc2,Qb7,Nxd4,cxd4,Rxd4,e5,Rd2,Qa7,Rbd1,Qe7,Qd3,a4,Qc3,Ra8,Qc2,Ra7,Rd3,Qf6,R1d2,axb3,axb3,Qg5,Qd1,Rda8,Qe2,Qf4,Rxd6,Bb7,g3,Qg5,h4,Qe7,Bg4,Ra1+,Rd1', 'Qxd6,Rxa1,Rxa1+', 'https://lichess.org/training/SkcZi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SkDDB', 'Rapid', 'Admiral19901130', 1815, 'shaan1990', 1809, 'e4,e5,f4,Bc5,Nf3,exf4,Bc4,Nf6,d4,Bb6,e5,Ne4,Qe2,f5,exf6,d5,fxg7,Rg8,Ne5,Qh4+,Kf1,Bg4,Nxg4,Rxg7,Bxd5,Re7,Bxb7', 'Ng3+,hxg3,Qxh1+', 'https://lichess.org/training/SkDDB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('skDiH', 'Rapid', 'mocovi', 1600, 'Peter1953', 1619, 'd4,Nf6,c4,g6,Nc3,d6,Nf3,Bg7,g3,Bg4,Bg2,O-O,O-O,c6,Re1,Nbd7,Bf4,Bxf3,Bxf3,e5,dxe5,dxe5,Bg5,Qc7,Ne4,Rad8,Bxf6,Nxf6,Qc2,Nxe4,Bxe4,Rd4,e3,Rd6,Rac1,Rfd8,c5,Rd2,Qc3,Qd7,b4,f5,Bc2,e4,Qc4+,Kh8,a4,Qe7,b5,Qe5,bxc6,bxc6,Rcd1,Rxd1,Rxd1,Rxd1+,Bxd1,Bf8,Bb3,Qg7,Qe6,Bxc5,Qe8+,Qf8', 'Qe5+,Qg7,Qxc5', 'https://lichess.org/training/skDiH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ske2W', 'Classical', 'vvvvvomniscient', 1603, 'DERRENGER', 1637, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,e6,Bb5,Bb4,Bd2,a6,Bxc6,bxc6,Nf3,Qa5,h3,d5,exd5,Nxd5,Nxd5,cxd5,O-O,O-O,c3,Bd6,b4,Qc7,g3,Bb7,a4,a5,b5,Qb6,Qe2,Bxg3,Be3,d4,Bxd4,Bxf3,Qxf3,Qc7,fxg3,Rad8,Qg4,f6,Rad1,e5,Be3,Rxd1,Rxd1,f5,Qg5,Rf6,Rf1,Qxc3,Bc1,Rg6,Qe3', 'Rxg3+,Kf2,Rxe3', 'https://lichess.org/training/Ske2W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SkeuO', 'Rapid', 'dadrules', 1695, 'Mita_Maratonac', 1720, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,a6,Ng5,e6,d4,b5,Be2,cxd4,Qxd4,h6,e5,dxe5', 'Qxd8+,Kxd8,Nxf7+', 'https://lichess.org/training/SkeuO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SkfxB', 'Blitz', 'vamosvivek', 1716, 'Chesscoach', 1963, 'd4,g6,Nc3,Bg7,Be3,d5,Nf3,Nf6,Qc1,O-O,g3,Bg4,Qd2,Ne4,Nxe4,dxe4,Ng5,Qd5,O-O-O,h6,f3,exf3,Nxf3,Qxa2,Qb4,Nc6,Qxb7,Bxf3,exf3,Qa1+,Kd2,Qa5+,Kc1,Nxd4,Bxd4,Bxd4,Rxd4,Qa1+,Kd2,Rad8,Rxd8,Rxd8+,Kc3,Qe1+,Kb3,c5,Qc7', 'Qb4+,Ka2,Qa4+,Kb1,Rd1#', 'https://lichess.org/training/SkfxB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('skHeU', 'Rapid', 'V-j-a-c-h-e-s-l-a-v', 1622, 'JulioSelva', 1618, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,e6,Nf3,cxb2,Bxb2,Bb4+,Nbd2,Nf6,O-O,Bxd2,Nxd2,Nc6,a3,h6,Re1,e5,Qb3,O-O,Nf3,d6,Rad1,Qe7,a4,a6,Ba3,Ne8,Bd5,Be6,Qb6,Bxd5,exd5,Rd8,dxc6,Nf6,cxb7,Ng4,Bxd6,Rxd6,Rxd6,e4,b8=Q,Rxb8,Qxb8+,Kh7,Rxa6,Qc5,Rxe4', 'Qxf2+,Kh1,Qf1+,Ng1,Nf2#', 'https://lichess.org/training/skHeU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SKhHr', 'Rapid', 'Anatoliy1968', 1905, 'kush1811', 1912, 'e4,c5,Bc4,e6,Nf3,Nf6,e5,d5,exf6,dxc4,fxg7,Bxg7,O-O,O-O,Na3,e5,Nxc4,e4,Ne1,Be6,d3', 'Bxc4', 'https://lichess.org/training/SKhHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SKhzT', 'Rapid', 'Ruben_123', 1926, 'latoya1983', 2019, 'e4,c5,Nc3,g6,f4,Bg7,Nf3,Nc6,Bc4,d6,O-O,Nf6,d3,O-O,Qe1,Rb8,a4,a6,Qh4,Nd4,Nxd4,cxd4,Ne2,e5,f5,b5,axb5,axb5,Bb3,Nd7,f6,Bxf6,Rxf6,Qxf6,Bg5,Qg7,Bh6,Qf6,Qg3,Bb7,Rf1,Qe7,Bg5,Qe8,Qh3,Nc5,Bf6,h5,Rf5,Nd7,Rxh5,Nxf6', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/SKhzT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SkIPN', 'Rapid', 'Santiguadalupe', 1850, 'AndresVegaITGDL', 1972, 'e3,d5,c4,c6,cxd5,cxd5,Bb5+,Nc6,Bxc6+,bxc6,Nf3,Nf6,Ng5,h6,Nh3,e6,Ng1,Bd6,Nf3,O-O,O-O,e5,d4,e4,Ne5,Qc7,Qc2,Bxe5,dxe5,Qxe5,Qxc6,Qg5,Qxa8', 'Bh3,Qxf8+,Kxf8', 'https://lichess.org/training/SkIPN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKJDO', 'Blitz', 'chessfkingchess', 1652, 'RoBinot', 1667, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Bg6,a3,Nd7,Nc3,Qb6,b4,Rc8,Be3,Ne7,Ne2,Nf5,O-O,Nxe3,fxe3,Bxd3,Qxd3,Be7,Ng3,a5,c4,axb4,c5,Qd8,axb4,b6,e4,bxc5,bxc5,Ra8,exd5,cxd5,Qd2,O-O,Ng5,Qc7,Nh5,Qc6,Qf4,f6,exf6,Nxf6,Nxf6+,Rxf6,Qd2,Rxf1+,Rxf1,Bxg5,Qxg5,Qb5,Qe7,Qe2', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/sKJDO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SkKJH', 'Rapid', 'stevenvanuytsel', 1661, 'tt1309', 1699, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Bb4+,Nc3,Bxc3+,bxc3,Nf6,e5,Nd5,Bb2,b6,Nf3,Bb7,O-O,Nf4,Ba3,Nd7,Qc1,Bxf3,Qxf4,Bd5,Be2,h6,c4,Bb7,c5,bxc5,dxc5,Qg5,Qxg5,hxg5,Rab1,Bc6,Rfe1,Nxe5,Bb5,Bxb5,Rxb5,Nd3,Rd1,Nf4,c6,Nd5,Rb7,Kd8,Rd2,Kc8,Bc5,Nb6,Bxb6,axb6,Rd7,f5,Rbxc7+,Kb8,Rxg7,g4,Rce7,Rd8,g3,e5,Rxe5,Ra7,Rxa7,Kxa7,Rxf5,Rc8,Rf6,b5,Kg2,Kb6,h3,Ra8,h4,Rxa2,h5,Ra8,Rg6,b4,Rxg4,b3,Re4,Kxc6,Rb4,Ra3,f4,Kc5,Rb8,Kc4,h6,Ra7,f5,Rh7,Rb6,Kc3,g4,Kc2,g5,b2,g6,Rxh6,g7', 'Rxb6,g8=Q,b1=Q', 'https://lichess.org/training/SkKJH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('skKto', 'Rapid', 'mauriciomina2018', 1639, 'kos-3', 1604, 'd4,d5,Nc3,e6,Bf4,Bb4,a3,Bxc3+,bxc3,Nf6,Nf3,Ne4,Ne5,Nxc3,Qd3,Ne4,a4,a5,Rb1,b6,h4,Ba6,Qf3,c5,Bg3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/skKto');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKl35', 'Rapid', 'Myrelingue', 2045, 'dzaniplays4', 1875, 'd4,Nf6,c4,e6,Nc3,b6,e4,Bb7,Bd3,d5,cxd5,exd5,e5,Ne4,Qc2,Nxc3,bxc3,c5,Nf3,g6,O-O,c4,Be2,Bg7,Re1,O-O,a4,Bc8,Ba3,Bf5,Qd2,Re8,Bd1,Qd7,Bc2,Nc6,Bxf5,Qxf5,Bb4,Nxb4,cxb4,Rac8,Qc3,Bh6,Re2,Qd3,Qc2,Qxc2,Rxc2,c3,Kf1,Rc4,Rb1,a5,bxa5,bxa5,Rb3,Rec8,Rb5,Rxa4,Rxd5,Ra1+,Ke2,a4,Ra5,a3,Rc5,Rxc5,dxc5,Rb1,c6,Rb8,Rxc3,a2,Ra3,Rc8,Nd4,Rd8,c7,Rc8,Rxa2,Rxc7,g3,Rd7,Ra4,Bg7,f4,Rb7,Kf3,Rb2,h4,Rb1,Ra8+,Bf8,Ra7,Kg7,Ke4,Re1+,Kd5,Rd1,Ra6,Rxd4+,Kxd4,Bb4,Ke4,Be1,Rb6,Bxg3,Rb7,Bxh4,Rxf7+,Kxf7,e6+,Kg7,Kd5,Kf6,Ke4,Ke7,Kf3,Ke8,Kg4,Kd8,Kxh4,Kc7', 'Kg5,Kd6,Kf6', 'https://lichess.org/training/sKl35');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SKldk', 'Classical', 'infasd', 1831, 'GameOveralways', 1630, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,h3,e5,d5,b6,Bg5,Nbd7,Nb5,a6,Nc3,h6,Be3,Nc5,Bd3,Nfd7,h4,f5,exf5,gxf5,Bc2,e4,Nd4,f4,Ne6,Nxe6,dxe6,fxe3,exd7,Bxc3+,bxc3,Qf6,O-O', 'exf2+,Rxf2,Qxf2+', 'https://lichess.org/training/SKldk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sklrY', 'Classical', 'Naresh2311', 1686, 'alharris', 1666, 'e4,c5,Bc4,e6,Nc3,Nf6,d3,d5,Bb3,Be7,e5,Nbd7,exf6,Bxf6,Bd2,Nb6,Qe2,O-O,O-O-O,Bd7,Nf3,Rc8,a3,c4,dxc4,dxc4,Ba2,h6,h3,Bxc3,Bxc3,Qe7,Bd4,Bb5,Bxb6,axb6,c3,Ra8,Bxc4,Bxc4,Qxc4,Rfc8,Qb3,Qc5,Rd2,b5,Rhd1,b4,axb4', 'Ra1+,Kc2,Qf5+,Rd3,Rxd1', 'https://lichess.org/training/sklrY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('skmiZ', 'Rapid', 'Chrissivert', 1690, 'nav1985', 1669, 'e4,g6,Nf3,Bg7,e5,e6,d4,Ne7,Nc3,O-O,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,f6,exf6,Bxf6,Qg4,Ng6,Bh6,Kh7,Bxf8,Qxf8,Bd3,Qg7,O-O-O,Nc6,h4,Nb4,a3,Nxd3+,Rxd3,d6,h5,Ne7,Qxg7+,Bxg7,g4,Bh6+,Kb1,Nc6,Rg3,Bg5,Ne4,Kh6,Nxg5,Kxg5,h6,Bd7,h7,Rh8,Rf3,Kg6,Rfh3,e5,dxe5,Nxe5,Rh6+,Kg7,g5,Ng4,R6h4,Nxf2,Rf1,Ng4,Re1,Ne5,Rg1,Bf5,Rf1,Kg6,Rh6+,Kxg5,Rhh1,Rxh7', 'Rxf5+,Kxf5,Rxh7', 'https://lichess.org/training/skmiZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SKnrV', 'Bullet', 'Planetas79', 1642, 'BlackMilk', 1597, 'd4,c5,c3,cxd4,cxd4,Nf6,e3,g6,f4,Bg7,Nf3,O-O,Bd3,d5,Nbd2,Nc6,a3,a5,O-O,e6,b3,b6,Bb2,Ba6,Bxa6,Rxa6,Qe2,Ra7,Rac1,Rc7,Qb5,Ne7,Qxb6', 'Rxc1,Qxd8,Rxf1+,Kxf1,Rxd8', 'https://lichess.org/training/SKnrV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKNRZ', 'Blitz', 'LeQauc', 1664, 'demo8691032', 1652, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Qd2,O-O,Nxc6,bxc6,Bd3,Ng4,Bf4,e5,Bg3,Re8,h3,Nf6,O-O,Rb8,b3,d6,Ne2,Bb7,f4,exf4,Qxf4,Re6,Bh4,Qd7,Nd4,Nd5,Qf3,Bxd4+,Kh1,Bxa1,exd5,c5,dxe6,Qxe6,Qg3,Be5,Qe3,Bd4,Qf4,Rf8,Re1,Be5,Qh6,Qd7,Rxe5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/sKNRZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKpot', 'Rapid', 'JozefKurzjus', 1838, 'RegalSin', 1656, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,Be6,Bxe6,fxe6,d4,Nf6,dxe5,dxe5,Nc3,Bb4,Ne2,Nxe4,c3,Bd6,Re1,h6,Qd3,Nf6,Qg6+,Kd7,Qxg7+,Qe7,Qxe7+,Kxe7,Ng3,Rag8,b4,b5,a4,e4,Nxe4,Nxe4,Rxe4,Nd8,axb5,Nf7,Rxa7,e5,b6,Rc8,Bf4,Kf6,Bg3,Ng5,Nxg5,hxg5,c4,c6,c5,Bb8,Ra8,Rcd8,Kf1,Rd1+,Ke2,Rhd8,Re3,R8d2+,Kf3,e4+,Kxe4', 'Rd4+,Kf3,g4+,Ke2,R4d2#', 'https://lichess.org/training/sKpot');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKPVj', 'Rapid', 'seta730', 2299, 'Erik07', 2282, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,a5,a3,Bxd2+,Qxd2,O-O,Nc3,d6,e3,Qe7,Be2,e5,dxe5,dxe5,Nd5,Nxd5,Qxd5,Nc6,O-O,Rd8,Qe4,f5,Qc2,e4,Nd2,Be6,Nb3,a4,Nd2,Ne5,b3,axb3,Nxb3,Ra6,Nd4,Rad6,c5,Rd5,Nxe6,Qxe6,Rfd1,Nd3,Bxd3,exd3,Qb3,Qc6,Rxd3,Qxc5,g3,Kf8,Rc3,Qa5,Rac1,c6,Kg2,Rb5,Qc2,g6,e4,fxe4,Qxe4,Re8,Qh4,Rf5,Qxh7,Qd5+,Kg1,Qd2,Qh8+,Kf7,Qh7+,Kf8,R3c2', 'Re1+,Rxe1,Qxe1+,Kg2,Qe4+', 'https://lichess.org/training/sKPVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SkQ4g', 'Rapid', 'Mc_Ogyrchik', 2098, 'vegansteak', 2104, 'c4,Nf6,Nc3,e6,d3,Bb4,Bd2,d5,cxd5,exd5,g3,O-O,Bg2,c6,Nf3,Re8,O-O,Bg4,h3,Bh5,a3,Bd6,Qb3,Qc7,Rac1,Nbd7,Nb5,Qb8,Nxd6,Qxd6,Bf4,Qe7,Qxb7,Qxe2,Nd4,Qxd3,Nxc6,Bf3,Bxf3,Qxf3,Rfe1,Ne4,Rxe4,dxe4,Qxd7,e3,Bxe3,Rxe3,Ne7+,Rxe7', 'Rc8+,Rxc8,Qxc8+,Re8,Qxe8#', 'https://lichess.org/training/SkQ4g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKqfg', 'Rapid', 'Kartik29', 1908, 'hp118', 2086, 'd4,e5,Nc3,exd4,Qxd4,Nc6,Qd3,Bb4,a3,Ba5,b4,Bb6,b5,Nce7,Qg3,Ng6,a4,a5,e3,Qf6,e4', 'Bxf2+,Qxf2,Qxc3+,Qd2,Qxa1', 'https://lichess.org/training/sKqfg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sktqv', 'Blitz', 'Alisa9', 1784, 'DonCorliyoni', 1935, 'e4,c5,Nc3,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nf6,Be3,g6,Be2,Bg7,O-O,O-O,Qd2,e5,Nxc6,bxc6,Rad1,Ne8,Bh6,Qe7,Bxg7,Kxg7,f4,f5,fxe5,Qxe5,Bd3,Nf6,exf5,Qc5+,Kh1,Bxf5,Bxf5,gxf5,Qg5+,Kh8,Rxf5,Nd5,Nxd5,cxd5,Rfxd5,Qc4,R5d3,Rg8,Qf6+,Rg7,Rxd6,Rg8,Rd7,Qg4,Rxg7', 'Qxd1+,Qf1,Qxf1#', 'https://lichess.org/training/Sktqv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKv2n', 'Rapid', 'vRegis', 1985, 'ankitsaroha', 1983, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,h3,Qd4,Qe2,Be6,d3,Qb4,a3,Qb6,Na4,Qa5+,Nc3,Bd4,Bd2,Qb6,Rb1,O-O-O,b4,Bxc3,Bxc3,Rhe8,Bd2,Qd4,c3,Qd7,Qe3,Nd5,Qxa7,Qd6,Qa8+,Kd7,Qxb7,Nf6,Be2,Ke7,Be3,Qe5,Bc5+,Kd7,d4', 'Qxe4,O-O,Qxe2', 'https://lichess.org/training/sKv2n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKVBK', 'Blitz', 'facemobbbx', 1624, 'push_a_pawn', 1606, 'e4,e5,Nf3,Bc5,Nxe5,Nf6,Nc3,O-O,h3,Re8,f4,d6,Nf3,Nxe4,Nxe4,Rxe4+,Be2,Qe7,d3,Ra4,c4,Rxc4,dxc4,Bf5,Bd2,Nc6,Bc3,Re8,Qd2,Be3,Qd5,Be4,Qd1,h6,a3,Bxf3,gxf3', 'Qh4+,Kf1,Qf2#', 'https://lichess.org/training/sKVBK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKvDr', 'Rapid', 'HIchess123', 1615, 'MAGA1', 1607, 'd4,d5,Nc3,Nf6,f3,Nc6,Bg5,e5,e4,Be6,exd5,Bxd5,Nxd5,Qxd5,Bxf6,gxf6,dxe5,Qa5+,c3,fxe5,Bc4,Bd6,Ne2,O-O-O,Qc2,f6,O-O', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/sKvDr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKVxg', 'Rapid', 'IM bravadochess', 2439, 'Funtikov_Michael1', 2298, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e4,Bb4,d3,d6,a3,Bc5,b4,Bd4,Nxd4,Nxd4,Be3,O-O,Bxd4,exd4,Ne2,c5,g3,Ng4,Bg2,f5,exf5,Bxf5,O-O,Qd7,Nf4,Rae8,Rb1,b6,Qd2,Ne5,h4,h6,Rbe1,Bg4,f3,Bf5,h5,Kh8,Rf2,Qf7,Rfe2,Kh7,bxc5,bxc5,a4,Rb8,Rxe5,dxe5,Rxe5,Rb1+,Kh2,Qf6,Rxc5,Re8,Rc7,Re3,c5,Qe5,Rc6,Rbe1,Qa5,Bd7,Rd6,Be8,Rd5,Qf6,c6,Bxc6,Rd8,Bxf3,Ng6,Re8,Rd6,Qg5', 'Qxg5,hxg5,Bxf3', 'https://lichess.org/training/sKVxg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKwMi', 'Blitz', 'Mudy7', 2182, 'Zarathoustr0', 2157, 'e4,c5,Nc3,Nc6,Bc4,e6,d3,Nge7,a3,d5,Ba2,d4,Nce2,e5,Ng3,Ng6,N1e2,Be7,O-O,O-O,h3,Kh8,f4,exf4,Nxf4,Nxf4,Bxf4,Bd6,Nf5,Bxf5,exf5,Bxf4,Rxf4,f6,Qh5,Qe8', 'Qxh7+,Kxh7,Rh4+,Qh5,Rxh5#', 'https://lichess.org/training/sKwMi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SkWvp', 'Blitz', 'ANTHROPOID', 2108, 'pkr5025', 1981, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Nf3,Bg4,Bg5,e6,O-O,Be7,c3,O-O,b4,a5,b5,Nbd7,a4,Nb6,Nbd2,Rc8,Rc1,Ne8,Bxe7,Qxe7,Qc2,h6,Ne5,Bh5,f4,Nd6,Bh7+,Kh8,Ndf3,Bxf3,Rxf3,Nbc4,Rh3,Na3,Qd3,Rc7,f5,Nxf5,Bxf5,exf5,Qxf5,Nc4,Re1,Nxe5,dxe5,Rc4,Rf1,Qe6,Qc2,Qxe5,Kh1,Qe4,Qd2,Rxa4,Re3,Qh7,Qxd5,f6,Qxb7,Ra2,Re7,a4,c4,a3,c5,Rb2,c6,Rb1,Ree1,a2,c7,a1=Q,c8=Q,Rxe1', 'Qxf8+,Qg8,Qbxg7#', 'https://lichess.org/training/SkWvp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('skYtC', 'Rapid', 'samrajnayak', 1725, 'Winbeck', 1721, 'e4,e6,d4,d5,exd5,exd5,Qe2+,Be7,Nf3,Nc6,Bg5,f6,Bf4,Bg4,Nc3,Nxd4,Qd3,Nxf3+,gxf3,Be6,Nb5,Bd6,Bxd6,cxd6,Qc3,Rc8,Nxd6+,Ke7,Nxc8+,Bxc8,Qc5+,Ke8,Qxa7,Qe7+,Qe3,Qxe3+,fxe3,Ne7,Bb5+,Nc6,Bxc6+,bxc6,O-O-O,Kf7,e4,dxe4,fxe4,Bg4,Rd6,Bf3,Re1,Re8,Rxc6,Bxe4,Rc7+,Kf8,c4,f5,Rf1,Ra8,h4,Rxa2,Rc8+,Kf7,Rc7+,Kf6,b4', 'Ra1+,Kd2,Rxf1', 'https://lichess.org/training/skYtC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sKz4C', 'Classical', 'y1161', 1708, 'Thomas0120', 1829, 'd4,Nf6,Nf3,d5,e3,Bf5,c4,e6,cxd5,exd5,Qb3,b6,Bb5+,c6,Bd3,Bxd3,Qxd3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O,Nbd7,Rac1,c5,Qe2,cxd4,Nxd4,Re8,Rc3,Rc8,Nc6,Rxc6,Rxc6,Re6,Rc3,d4,Rc2,Nc5,Rfc1', 'd3,Qf3,dxc2', 'https://lichess.org/training/sKz4C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SkzYk', 'Rapid', 'chessnickname', 2012, 'slaz1223', 2030, 'd4,Nf6,c4,g6,Nc3,d5,Bf4,Bg7,e3,c6,Nf3,c5,Qc2,O-O,h3,cxd4,Nxd4,Re8,Bxb8,Rxb8,Rd1,e6,Bd3,e5,Nb3,d4,Be2,Bd7,exd4,Bf5,Qc1,exd4,Nxd4,Bd7,O-O,Ne4,Nxe4,Rxe4,Bf3,Rxd4,Rxd4,Bxd4,Qf4,Bxb2,Rd1,Qe8,Rxd7', 'Qe1+,Kh2,Be5,Qxe5,Qxe5+', 'https://lichess.org/training/SkzYk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sL1i1', 'Rapid', 'el_perro_orfeo', 2093, 'MarcelinoCarhuas', 1999, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,h4,Bg7,Be2,h5,Qd2,Nc6,Nxc6,bxc6,b3,Be6,Bb2,a5,O-O,Qc8,f4,O-O,Na4,Nxe4,Qe3,Bxb2,Nxb2,d5,Nd3,Bf5,Ne5,c5,c4,d4,Qc1,Qb7,Bf3,Rad8,g4,hxg4,Bxg4,Bxg4,Nxg4,Nc3,Qd2,Qd7,f5,Qd6,Rf3,Rb8,f6,Ne4,Qh6,Nxf6,Nxf6+,exf6,Raf1,Rbe8,h5,Qe5', 'hxg6,Qg5+,Qxg5,fxg5,gxf7+,Rxf7,Rxf7', 'https://lichess.org/training/sL1i1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sl1JY', 'Rapid', 'Honbomb', 1721, 'bigtesty', 1712, 'd4,e5,dxe5,f6,exf6,d5,Nf3,Nxf6,Bg5,h6,Bxf6,gxf6,Nc3,c6,g3,Bg7,Bg2,Bf5,Nh4,Bh7,O-O,Nd7,a4,Qb6,b3,f5,Nxd5,cxd5,Rb1,O-O-O,Qxd5,Nc5,Qf7,Bd4,Nxf5,Rdf8,Ne7+,Kb8,Qd5,Rd8,Qc4,Rhe8,Qf7,Bxc2,Rbc1,Bxb3,Qf4+,Rd6,Nf5,Rf8,Qxd6+,Qxd6,Nxd6,Bxa4,e3,Be5,Rxc5,Bxd6,Ra5,Bd7,Rd1,Bc7,Rad5,Bc6,Rh5,Rf6,Bxc6,Rxc6,Rd4,Rc1+,Kg2,a5,Rdh4,Ra1,Rxh6,a4,Rh8+,Ka7,Rc8,Bb6,Rb4,a3,Rc2,Ba5,Ra4,b6,Rxa5+,bxa5,h4,a2,g4', 'Rg1+,Kxg1,a1=Q+', 'https://lichess.org/training/sl1JY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sl1lI', 'Rapid', 'David_Isayan', 1748, 'TodynhoDoBem', 1702, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Be3,Rb8,Bb5+,Bd7,Bxd7+,Qxd7,b3,Bb4,Bd2,Nf6,O-O,O-O,Ne2,Rfc8,Bxb4,Rxb4,Rc1,Rh4,h3,Qd6,Ng3,Rc3,Qd2,Qc5,Qg5,Rh6,Qd2,Rxg3,Qf4,Rhg6', 'Qb8+,Qf8,Qxf8+,Kxf8,fxg3', 'https://lichess.org/training/Sl1lI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sl3n9', 'Rapid', 'lukeking34', 1967, 'claudefics', 1910, 'e4,d6,d4,Nf6,Nc3,g6,Be3,c6,f3,b5,Qd2,Qa5,a3,Nbd7,b4,Qc7,Bd3,Bg7,Nge2,O-O,h4,h5,Bh6,a5,Bxg7,Kxg7,g4,axb4,gxh5,Nxh5,Nd1,Rxa3,Rxa3,bxa3,Ne3,a2,Nf5+,Kh7', 'Qh6+,Kg8,Nxe7#', 'https://lichess.org/training/sl3n9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sL3pe', 'Rapid', 'Francescatti', 2019, 'Hachem67', 1903, 'e4,c5,Nf3,Nc6,c3,d5,e5,Bg4,d4,cxd4,cxd4,Bxf3,Qxf3,Nxd4,Qd1,Nc6,Nc3,e6,Bd3,Nxe5,Bb5+,Nc6,O-O,Nf6,Bg5,Be7,Qa4,Qc7,Rac1,O-O,Bd3,d4,Bxf6,Bxf6,Ne4,Qe7,a3,Ne5,Bb1,Nc6,Qc2,g6,Nc5,Rac8,Qe2,Ne5,b4,b6,Ne4,Bg7,f4,Nd7,Rce1,a5,Ng5,e5,bxa5,bxa5,Qg4,h5,Qg3,exf4', 'Rxe7,fxg3,Rxd7', 'https://lichess.org/training/sL3pe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SL5CF', 'Rapid', 'rcso', 1925, 'omaretruben', 1972, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,Bb5,Qb6,Bxc6+,bxc6,O-O,Nh6,Nc3,Qb4,d3,Ba6,a3,Qa5,Bd2,Qd8,Be1,Be7,Ne2,O-O,b3,Nf5,Bf2,d4,c4,Ne3,Bxe3,dxe3,Ne1,f6,Qc1,fxe5,Qxe3,exf4,Qxe6+,Kh8,Qxc6,Bc8,Nxf4,Qd4+,Kh1,Qxa1,Qxa8,g5,Qe4,Rxf4', 'Rxf4,gxf4,Qxe7', 'https://lichess.org/training/SL5CF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sl7TO', 'Rapid', 'Forgotten_Sky', 1931, 'BenMercado', 1949, 'e4,g6,d4,Bg7,Nc3,a6,f4,d6,Nf3,e6,e5,d5,g4,h5,gxh5,Rxh5,Ng5,Ne7,Be2,Rh8,h4,Nf5,h5,Ng3,Rh3,Nxe2,Qxe2,Nc6,Be3,Bd7,O-O-O,Qe7,Qh2,O-O-O,h6,Bf8,Rh1,f6,exf6,Qxf6,Qf2,b5,Ne2,Be7,Ng1,Rdf8,N1f3,Nb4,a3,Nc6,Qg3,Bd6,Rh4,b4,axb4,Nxb4,Kd2,Qf5,Ne1,Ba4,b3,Bd7,c3,Na2,Nd3,Bb5,Nf2,a5,Ra1,Nxc3,Kxc3,Bb4+,Kb2,c5,dxc5,Qf6+,Ka2,a4,Rc1,axb3+,Kxb3', 'Bc4+,Rxc4,dxc4+', 'https://lichess.org/training/Sl7TO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sL8jH', 'Rapid', 'Bajsa', 2044, 'bodydragger', 1845, 'd4,e6,Nf3,c5,c3,Nc6,e3,Nf6,Bb5,g6,Bxc6,bxc6,O-O,cxd4,exd4,Bg7,Bg5,O-O,Nbd2,Qc7,g3,Rb8,Qc2,Ba6,Rfe1,d6,Bf4,Nh5,Be3,f5,b4,Rbe8,Qb3,Bc8,Nc4,f4,gxf4,Nxf4,Ng5,d5,Na5,Rf5,Nf3,Ref8,Ne5,Bxe5,dxe5,Nh3+,Kg2,Nxf2,Bc5,Rg5+,Kf1,Nd3+,Ke2,Nxc5,bxc5,Qxa5,Rf1,Rxe5+,Kd2,Rxf1,Rxf1,Qxc5,Rf3,Qb6,Qa3,c5,Qa4,Qc7', 'Qe8+,Kg7,Qf8#', 'https://lichess.org/training/sL8jH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sL9LW', 'Rapid', 'SatishJha', 1657, 'manarbek', 1650, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,Bg4,Bc4,Nc6,Be3,Ne4,Bxf7+', 'Kxf7,d5,Nxc3', 'https://lichess.org/training/sL9LW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SlAgw', 'Blitz', 'Elyhw', 1604, 'White_Shinigami', 1554, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,h3,Bh5,b4,Bb6,a4,a6,b5,axb5,Bxb5,Ne7,Kh1,O-O,Qb3,Bxf3,gxf3,Na7,Bc4,Ng6,Rg1,Nf4,d4,Qh4,Bxf4,Qxf4,Rg3,exd4,Nd2,dxc3,Qxc3,g6,Rag1,Bxf2', 'Rxg6+,hxg6,Rxg6+,Kh7,Qg7#', 'https://lichess.org/training/SlAgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLayp', 'Rapid', 'Ocelot44', 1928, 'Asamov197070', 1941, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,d4,exd4,cxd4,Nf6,Nc3,a6,Bd3,h6,e5,dxe5,dxe5,Nd5,Nxd5,Bg4,Be4,Nxe5,h3,Bxf3,Bxf3,Nxf3+,Qxf3,c6,Qe2+,Be7,Qxe7+,Qxe7+,Nxe7,Kxe7,O-O,Rhe8,Re1+,Kf8,Rxe8+,Rxe8,b3,Re1+,Kh2,Re2,Be3,g5,Kg3,f5,Kf3,Rc2,Bd4,c5,Be5,Kf7,a3,b5,Rd1,Ke6,Bg7,h5,Re1+,Kf7,Be5,g4+,hxg4,fxg4+,Kg3,a5,Bd6,c4,bxc4,Rxc4,Re5,Rd4,Re7+,Kg6,Bc5,Rd3+,Kf4,b4,axb4,axb4,Bxb4,Rd4+,Re4,Rd5,Re6+,Kf7,Re7+,Kf6,Ke4,Rb5,Bd6,Rb6,Rh7,Kg6,Rd7,h4,Bf8,h3,Rg7+,Kh5,gxh3,gxh3,Rg3,Re6+,Kd3,Kh4,Re3', 'Rxe3+,Kxe3,h2', 'https://lichess.org/training/sLayp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SlbSb', 'Blitz', 'Asnawichess', 1658, 'I_Am_An_Avenger', 1624, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Re1+,Be7,Bg5,O-O,Nd2,h6,Bh4,c5,Qd3,Re8,c3,d6,Bb3,Nd7,Bxe7,Rxe7,Bc2,Rxe1+,Rxe1,Nf6,Ne4,Bf5', 'Nxf6+,Qxf6,Qxf5,Qxf5,Bxf5', 'https://lichess.org/training/SlbSb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SLcnT', 'Rapid', 'rodrigofs75', 1778, 'mamanism', 1792, 'e4,c5,Nf3,Nc6,Bc4,d6,O-O,Nf6,d3,g6,Bg5,Bg7,c3,O-O,Nbd2,Bg4,Re1,d5,exd5,Nxd5,Qb3,Na5,Qa4,Nxc4,Qxc4,Nf6,Qxc5,Rc8,Qe3,Nd5,Qe4,Bxf3,Qxf3,Nf6,d4,Qa5,Ne4,Nxe4,Bxe7,Nd2,Qe2,Nc4,Bxf8,Bxf8,a3,Qg5,Rab1,Bd6,g3,b5,b3,Nxa3,Ra1,a5,b4,axb4,cxb4,Nc4,Ra6,Bxb4,Rb1,Bc3,Qd3,Nd2,Rxb5,Qg4,Ra7,Nf3+,Kg2,Nh4+,Kh1,Nf5,Rc5,Rxc5,dxc5,Bd4,Ra8+,Kg7,c6,Nd6,Kg2,Nc8,Ra4,Qe6,Qxd4+,Kg8,c7,Qc6+,Qe4,Qxc7,Rc4,Qd7,Qa8,Kg7,Qxc8,Qd5+,Kg1,Qd1+,Kg2,Qd5+,f3,Qd2+,Kh3,Qh6+,Kg4', 'f5+,Qxf5,gxf5+', 'https://lichess.org/training/SLcnT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SldOM', 'Rapid', 'DanTebbutt', 1712, 'Sergey-aero', 1727, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Be7,Bb5,O-O,O-O,a6,Bd3,d5,exd5,Nxd5,Nxd5,f5,Nxe7+,Qxe7,Bc4+,Kh8,Re1,b5,Bd5,Rd8,Na5,Nxa5,Qf3,e4,Qa3', 'Qxa3,bxa3,Rxd5', 'https://lichess.org/training/SldOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLDOS', 'Blitz', 'gaboose', 1787, 'scarface20', 1866, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,h6,Nf3,e4,Ne5,Qd6,d4,Ba6,Qd2,Qc7,b4,Nc4,Bxc6+,Kd8,Nxc4,Bxc4,Bxa8,Bd6,d5,Ke7,Bc6,Rb8,Na3,Bxb4,c3,Bxa3,Bxa3+,Kd8,Qd4,Bd3,Rd1,Qa5,Bb4,Qxa2,Rxd3,exd3,Qxd3,Qa1+,Qd1,Qa6,Qe2,Qa1+,Qd1,Qa6,Kd2,Ne4+,Ke3,Nf6,Re1,Qb6+,Qd4,Qa6,Qd3,Qb6+,Ke2,Ng4,Qf3,Qa6+,Qd3,Qa2+,Qd2,Qc4+,Kf3,Nf6,g3,Qg4+,Kg2,Nh5,Qe2,Nf4+,Kf1', 'Qh3+,Kg1,Qg2#', 'https://lichess.org/training/sLDOS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SLeEz', 'Rapid', 'dusansimi', 1668, 'alhorngreni', 1655, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Ne2,Ne7,Bg5,Qb6,Nd2,h6,Bxe7,Bxe7,O-O,c5,f4,Nc6,c3,cxd4,cxd4,Rc8,b3,Ba3,f5,Nxe5,Qh3,Rc2,fxe6,fxe6', 'Qh5+,Kd8,Qxe5', 'https://lichess.org/training/SLeEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SLfnW', 'Rapid', 'anakajaib', 1661, 'MB7303', 1650, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,Nxd4,Nxe5,Nxe4,Qxd4,Qh4,Nxf7,Bc5,Qe5+,Kf8,O-O,d6,Qd5,c6,Qd3', 'Bxf2+,Rxf2,Qxf2+', 'https://lichess.org/training/SLfnW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SLFTM', 'Classical', 'brendon1an', 1955, 'freep01', 1632, 'e4,d5,exd5,e6,dxe6,Bxe6,d4,Bd6,Bb5+,c6,Be2,Nf6,Nf3,O-O,c4,b6,O-O,Na6,c5,Bxh2+,Nxh2,Nb8,b4,Bd5,Nc3,Ne4,Nxe4,Bxe4,Bd3,Bd5,Qc2,Qf6,Bxh7+,Kh8,Nf3,Bxf3,gxf3,g6,Bh6,Rd8,Rfe1,Kxh7,Qd2,Rg8,Re4,g5,Bxg5,Rxg5+,Kf1,Qg6,Ke2,Na6,Rh1+,Rh5,Reh4,Rxh4', 'Rxh4+,Kg7,Rg4', 'https://lichess.org/training/SLFTM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('slFyJ', 'Rapid', 'pnikolic', 1871, 'SpaceMandalorians', 1916, 'd3,g6,Bd2,Bg7,Bc3,Bxc3+,Nxc3,c6,e4,e6,Nf3,d5,exd5,cxd5,Be2,a6,O-O,Nh6,h3,Nc6,d4,Nf5,a3,Bd7,Qd2,Qf6,Rad1,b5,b4,Rc8,Na2,Ncxd4,Nxd4,Nxd4,Qxd4,Qxd4,Rxd4,Rxc2,Nc1,O-O,Rfd1', 'Rfc8,Nd3,Rxe2', 'https://lichess.org/training/slFyJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SLGCm', 'Rapid', 'AlexeyAlexey81', 1869, 'DeathRattler', 1839, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,g6,c3,Bg7,Bd3,O-O,Nf3,Nbd7,h4,c5,h5,cxd4,Nxd4,Ne5,hxg6,Nxd3+,Qxd3,fxg6,Bh6,e5,Bxg7,Kxg7,Ngf5+,Bxf5,Nxf5+,gxf5,Qxf5,Qd7', 'Rxh7+,Nxh7,Qxd7+', 'https://lichess.org/training/SLGCm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLGSY', 'Classical', 'apas', 1962, 'Anyckin', 1838, 'd4,f5,g3,Nf6,Bg2,d5,c4,c6,Nc3,e6,cxd5,cxd5,Nh3,Bb4,O-O,Ne4,Nxe4,fxe4,a3,Ba5,b4,Bc7,Bg5,Qd7,Rc1,O-O,Nf4,Bd8,Bxd8,Qxd8,Bh3,Qe7,Nxd5,exd5,Rxc8,Rxc8,Bxc8,Nc6,Bg4,Rf8,e3,Qg5,Be6+,Kh8,Qb3,Ne7,Qa4,Qf6,Qd7,Nf5,Qxd5', 'Nxe3,Qxe4,Nxf1', 'https://lichess.org/training/sLGSY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SLgxY', 'Rapid', 'Aidy', 2024, 'pawn_f7', 1997, 'e4,d5,exd5,Qxd5,d4,Qd8,Be3,Nf6,c4,e6,Nc3,Be7,Bd3,O-O,Nf3,c6,O-O,Ng4,Bxh7+,Kxh7,Ng5+,Bxg5,Qxg4,Bxe3,fxe3,e5,Qh5+,Kg8,Ne4,f5', 'Ng5,Qxg5,Qxg5', 'https://lichess.org/training/SLgxY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SlHtX', 'Rapid', 'Isaacinator', 1723, 'Lili456', 1638, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,Bf4,Nbd7,e3,e6,Bd3,Bg6,c5,b6,Bxg6,hxg6,Qc2,bxc5,dxc5,Bxc5,O-O-O,Qb6,Na4,Qa5,Ne5,Rc8,Nxg6,fxg6,Qxg6+,Kf8,Nxc5,Qxc5+,Kb1,e5,Rc1,Qe7,Bg5,Qf7,Qf5,Ke7,Rc2,Qe6,Qg6,Qf7,Qf5,g6,Qf3,Rhf8,Rhc1,Qe6,h4,Kd6,Qe2,Rc7,Qa6,Nb6', 'Qa3+,Kd7,Qxf8', 'https://lichess.org/training/SlHtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SLIHJ', 'Classical', 'ktbnchess', 2058, 'ibryam77', 2138, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,e6,Bf4,a6,Nf3,Bd6,Be5,Bxe5,Nxe5,Nd7,f4,f6,Nf3,Ne7,e3,f5,Be2,O-O,O-O,Nc6,a3,Nf6,Rc1,Bd7,Qd2,Rc8,Na4,Ne4,Qe1,Qe7,Nc5,Nxc5,dxc5,Rc7,Nd4,Rfc8,b4,e5,fxe5,Qxe5,Qd2,Re8,Rf3', 'Nxd4,exd4,Qxe2', 'https://lichess.org/training/SLIHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sliy2', 'Rapid', 'gergobacsi', 1739, 'dmyar', 1933, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Be3,e6,Bd3,Be7,Qd2,O-O,h3,d5,e5,Nxd4,Bxd4,Nd7,O-O-O,Bc5,Bxc5,Nxc5,Be2,a6,g4,b5,h4,b4,Ne4,Nxe4,Qe3,Qa5,Kb1,Nc3+,bxc3,bxc3,Rd3,Qb4+,Kc1,Qb2+,Kd1,Qb1+,Qc1,Qxa2,Rxc3,Bb7', 'Ra3,Qxa3,Qxa3', 'https://lichess.org/training/Sliy2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SljSv', 'Rapid', 'zahid_015', 1756, 'lambangsukma11', 1779, 'e4,c5,Nf3,d6,Bc4,Nf6,Ng5,e6,Qf3,h6,Nh3,a6,d3,b5,Bb3,Bb7,a4,Nbd7,Be3,Rc8,O-O,c4,dxc4,bxc4,Ba2,Bxe4,Qe2,d5,Nc3,Bf5,b4,Bxb4,Nd1,a5,c3,Bd6,Bb1,Bxh3,gxh3,Rb8,Kh1,Ne5,f4,Nd3,Bxd3,cxd3,Qxd3,O-O,Rg1,Kh8,Nf2,Rb2,Ng4,Ne4,c4,Qb8,cxd5,Rb4,Bd4,Bc5,Bxc5,Nxc5,Qc3,Ne4,Qe5,exd5,Qxb8,Rfxb8,Rgc1,f5,Ne5,Nf2+,Kg1,Rxf4', 'Ng6+,Kh7,Nxf4', 'https://lichess.org/training/SljSv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLkUj', 'Rapid', 'ahmadelhendawi123', 1818, 'perico22', 1817, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,Ne7,Bd3,Nbc6,Bg5,f6,Bh4,Bg4,h3,Bh5,g4,Bf7,Qd2,Qd7,O-O-O,O-O-O,Rhe1,Ng6', 'Bf5,Qxf5,gxf5', 'https://lichess.org/training/sLkUj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLkV2', 'Blitz', 'MiguelRaz', 1920, 'sepenoob', 1919, 'd4,e5,Nf3,exd4,Qxd4,Nc6,Qd1,d5,Bf4,Nf6,Nbd2,Bd6,Bg5,Be6,e3,h6,Bh4,Qe7,c3,O-O-O,Qc2,g5,Bg3,Bxg3,hxg3,a6,O-O-O,Ng4,Nb3,f5,Nfd4,Nxd4,exd4,f4,gxf4,gxf4,Re1,Qf7,Bd3,Kb8,Nc5,Bc8,Qb3,Nxf2,Bxa6,c6,Rhf1,Ng4,Rf3,Ka7,Bd3,Rde8,Ref1,Qg7,Qa4+,Kb8,Rxf4,Ne3,Rf7,Qxg2,Qb4,Nxf1', 'Rxb7+,Bxb7,Qxb7#', 'https://lichess.org/training/sLkV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLkWx', 'Classical', 'spreelich', 1828, 'yd050057', 1786, 'd4,Nf6,Bf4,d5,e3,e6,c3,Bd6,Bg3,c5,Bd3,c4,Bc2,Nc6,Nd2,b5,Ngf3,a5,e4,dxe4,Nxe4,Nxe4,Bxe4,Bb7,Qc2,h6,O-O,Bxg3,fxg3,Qc7,d5,exd5,Bxd5,O-O,Be4,Kh8,Rae1,Rad8,Nh4,Ne7,Bf3,Rd3,Be2,Re3,Rf2,Qe5,Ref1,Kg8,Nf3,Qc5,Nd4,b4,Qd2,Nd5,Bf3,bxc3,bxc3,Rd3,Qb2,Ba8,Bh5,Nxc3,Bxf7+,Kh8', 'Ne6,Qd6,Nxf8', 'https://lichess.org/training/sLkWx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SlkZy', 'Rapid', 'Gynvael', 1804, 'nosobras', 1816, 'c4,d5,cxd5,Qxd5,Nc3,Qd6,Nf3,Bg4,h3,Bh5,g4,Bg6,Bg2,Nc6,Nb5,Qd7,Nc3,Nb4,d3,O-O-O,Ne4,Bxe4,Ne5,Qe6,Bxe4,Qxe5,Qb3,Nd5,f4,Qd4,Bd2,Nb6,O-O-O,Nf6,Kb1,Nxe4,dxe4,Qxe4+,Ka1,Qxe2,Rhe1,Qg2,Qxf7,Rxd2', 'Qe8+,Rd8,Qxd8#', 'https://lichess.org/training/SlkZy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLLGK', 'Blitz', 'levi30', 1889, 'amirabbas_ftn', 1874, 'e4,e5,Bc4,Nf6,Nc3,Bc5,d3,h6,Nf3,d6,Bb3,Nc6,Bd2,Ng4,O-O,Nd4,Nxd4,exd4,Nd5,c6,Nf4,Qh4,h3,h5,Qf3,Ne5,Qe2,g5,g3,gxf4,gxh4,f3,Qe1,Bxh3,Kh2,Bg2,Bf4,Ng4+,Kg3,Rg8,Bg5,f6,Bxg8,fxg5,hxg5,O-O-O,Be6+,Kc7,Bxg4,hxg4,a3,d5,b4,Bd6+,e5,Be7,c3,Bxg5,cxd4,Rf8,b5,Bh3,bxc6', 'Bf4+,Kh4,Rh8#', 'https://lichess.org/training/sLLGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLmHJ', 'Rapid', 'MaxEve', 1964, 'MikaelM', 2035, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Bb5,Bd7,Nxc6,bxc6,Bc4,Nf6,Bg5,Be7,Nc3,O-O,O-O,Rb8,Rb1,h6,Bh4,Be6,Bb3,c5,Re1,c6,Bxe6,fxe6,e5,Nd5,Bxe7,Qxe7,exd6,Qxd6,Ne4,Qf4,c4,Nf6,f3,Nxe4,Rxe4,Qf6,b3,Rfd8,Qe1,Rd6,Qa5,Rbd8,Rbe1,Rd1,Qxc5,Qa1,Qe3', 'Rxe1+,Qxe1,Rd1,Qxd1,Qxd1+', 'https://lichess.org/training/sLmHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SLMpt', 'Rapid', 'drusso', 1846, 'ScotchGambit', 1932, 'd4,d5,Nf3,c5,Bg5,Nc6,c3,Nf6,h4,h6,Bf4,Bg4,Nbd2,e6,e3,cxd4,cxd4,Bb4,Bb5,Ne4,Qa4,O-O,Bxc6,Nxd2,Qxb4,Nxf3+,gxf3,Bxf3,Rg1,bxc6,Bxh6,Rb8,Qd2,Qxh4,Bf4,Rb6,Qc2,Kh8,Bg3,Qh7,Kd2,Be4,Qc1,Kg8,Qd1,Qf5,b3,Bf3,Qc2,Be4,Qb2,Rd8,Rac1,Rd7,Qa1,Rdb7,Bf4,a5,Bh6,g6,Bf4,a4,Be5,axb3,Rh1,Bxh1,axb3,Bf3', 'Qa8+,Rb8,Bxb8,Kg7,Be5+', 'https://lichess.org/training/SLMpt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SlNcx', 'Rapid', 'adamak123', 2366, 'Fabien75', 2324, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,Nd4,O-O,a6,Bd3,b5,Nxd4,cxd4,Ne2,Bb7,a4,Qb6,axb5,axb5,Rxa8+,Bxa8,b3,Bxe4,Bxe4,d3+,Kh1,dxe2,Qxe2,Nf6,Bf3,O-O,Qxe7,Re8,Qb4,d5,Bb2,Ne4,Bxe4,Rxe4,Qa3,Bxb2,Qxb2,Qf2,Qc1,Qd4,d3,Re2,Qd1,Qe3,h3,Rf2,Rxf2,Qxf2,Qc1,d4,b4,Kg7,c4,bxc4,dxc4,Qe2,Kh2,d3,Qc3+', 'f6,Qd4,d2', 'https://lichess.org/training/SlNcx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('slNjF', 'Rapid', 'Warguengar', 1711, 'krzysiekstasilas', 1789, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Nc6,Bb5,Bd7,O-O,a6,Bc4,Nb6,Bxf7+,Kxf7,Ng5+,Kg8,Qf3,Qe8,c3,Qg6,h4,h6,h5,Qf6,Qxf6,exf6,Nf3,Bg4,Nh4,Bxh5,Nd2,Nd5,Ne4,g5,Nf5,Bg6,Neg3,Nce7,Ne3,Nf4,Ng4,Bg7,Bxf4,gxf4,Ne2,f3,Nf4,h5,Nh2,fxg2,Kxg2,Be4+,f3,Bc6,Kf2,Nd5,Ng6,Rh6,Rg1,Kf7,Nh4,Nf4,Ke3,Nd5+,Kd2,Bf8,a3,Bd6,c4,Bf4+,Kd3,Nb6,Nf1,Rd8,d5,Ba4,Ng3,Bxg3,Rxg3,Bb3,Rag1,Bxc4+,Kc3,Rxd5,Rg7+,Ke6,Re1+,Re5,Rc1,Re3+,Kb4,a5+,Kxa5,Rh8,Rxc7,Ra8+,Kxb6,Ra6+,Kxb7', 'Rb3+,Kc8,Ra8#', 'https://lichess.org/training/slNjF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('slocK', 'Rapid', 'MzaChess', 1648, 'vali1936', 1937, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,d6,Bd3,Nd7,O-O,Be7,Re1,a6,Qe2,b5,a3,c5,dxc5,dxc5,e5,c4,Be4,Qc7,Bf4,Nc5,Bxb7,Qxb7,Rad1,h6,Ne4,Nxe4,Qxe4,Qxe4,Rxe4,g5,Be3,Rc8,Red4,g4,Rxg4,h5,Rgd4,Nh6,Bg5,Nf5,Rd7,h4,Bxe7,Nxe7,Ng5,Rh5,Ne4,Rxe5,Nf6+,Kf8,Kf1,Nf5,Ng4,Re4,Nf6,Rf4,Rd8+,Rxd8,Rxd8+,Kg7', 'Nh5+,Kh7,Nxf4', 'https://lichess.org/training/slocK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SlOHa', 'Rapid', 'gunter227', 1711, 'Kaspersky120', 1699, 'f4,d5,Nf3,c5,c4,d4,e3,Nc6,exd4,cxd4,b3,g6,Bb2,Bg7,Na3,Bg4,h3,Bxf3,Qxf3,Nf6,Nb5,e5,fxe5,Nxe5,Qxb7,Rb8,Nc7+,Kf8,Qxa7,Nxc4,Bxc4,Ne4,d3,Qh4+,Ke2', 'Qf2+,Kd1,Qd2#', 'https://lichess.org/training/SlOHa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('slOIQ', 'Rapid', 'franj', 1818, 'anastasia1188', 1782, 'd4,Nf6,Bg5,d5,e3,e6,c4,Bb4+,Nc3,O-O,cxd5,exd5,g3,c6,Bg2,Bxc3+,bxc3,Qa5,Bxf6,Qxc3+,Kf1,gxf6,Ne2,Qa5,a4,Bf5,Nf4,Nd7,Bf3,Nb6,Nh5,Nc4,Nxf6+,Kg7,Nh5+,Kh8,Kg2,Rae8,Re1,Nd2,Qe2', 'Nxf3,Qxf3,Be4', 'https://lichess.org/training/slOIQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SlotU', 'Blitz', 'ya1ya2', 1601, 'AZerhouni', 1596, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Bc5,Be3,Bb6,Ndb5,Bxe3,Nd6+,Kf8,fxe3,Nf6,g3,h5,Bb5,Ne5,O-O,h4,Ne2,hxg3,Nxg3,Nfg4,Nc4,Nxc4,Qxg4,Nxe3,Rxf7+,Kxf7,Qf4+,Kg8,Qxe3,Qh4,Qf2,a6,Bd3,b5,Rf1,Bb7,e5,Rh6', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/SlotU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLoZ8', 'Rapid', 'mati44', 1849, 'cupro', 1761, 'd4,d5,Nf3,Nf6,e3,Bg4,c4,e6,Nc3,c6,h3,Bxf3,Qxf3,Bd6,c5,Bc7,Bd3,Nbd7,O-O,e5,dxe5,Nxe5,Qe2,Nxd3,Qxd3,O-O,b4,a6,a3,Re8,Re1,Ne4,Nxe4,Rxe4,Bb2,Qg5,Qe2,Rae8,Bd4', 'Rxd4,exd4,Rxe2', 'https://lichess.org/training/sLoZ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SlpFH', 'Classical', 'Mra_id', 1900, 'Islem-ariana', 1773, 'e4,Nf6,Nc3,e5,Nf3,Bc5,Bc4,d6,d4,exd4,Nxd4,O-O,O-O,Re8,Re1,c6,Bg5,d5,exd5', 'Rxe1+,Qxe1,Bxd4', 'https://lichess.org/training/SlpFH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SlPZv', 'Rapid', 'ernandokortes', 1678, 'MirekVeverka', 1698, 'e4,c6,d4,d5,exd5,cxd5,Nc3,e6,a3,Nf6,Bd3,Nc6,Be3,Bd7,f4,a6,Nf3,Bd6,Ne5,O-O,Nxd7,Qxd7,O-O,h6,f5,exf5,Bxf5,Qe7,Bf4,Bxf4,Rxf4,Qe3+,Rf2,Nxd4,Qd3,Qxd3,Bxd3,Ng4', 'Rf4,Nxc2,Bxc2', 'https://lichess.org/training/SlPZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('slSdQ', 'Blitz', 'PhalanxAugusta', 1951, 'MasterSalomon', 1990, 'e4,c5,Nf3,Nf6,e5,Nd5,c4,Nb4,a3,N4c6,Nc3,g6,d4,cxd4,Nxd4,Nxe5,Bf4,Bg7,Ndb5,d6,Nd5,Na6,Be2,O-O,h4,h6,Qd2,Kh7,h5,g5,Bxg5,hxg5,Qxg5,Nc5,h6,Bf6', 'Nxf6+,exf6,Qg7#', 'https://lichess.org/training/slSdQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SLSnk', 'Rapid', 'stockfish05', 1745, 'Dyiaaeldeen', 1778, 'e4,e5,Nf3,d6,Bb5+,c6,Bc4,Bg4,O-O,Nf6,h3,Bh5,Qe2,Be7,Qe3,h6,d4,Bxf3,dxe5,Bxg2,exf6,Bxf1,fxe7,Qxe7,Kxf1,Nd7,Nc3,O-O,Bd2,Ne5,Bb3,Qh4,Ne2,a6,Qg3,Qxe4,Bxh6,Ng6,Bf4,Rfe8,Re1,Qh1+,Ng1,Rxe1+,Kxe1,Re8+,Kd1,Qe4,Qe3', 'Nxf4,Qxe4,Rxe4', 'https://lichess.org/training/SLSnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLSyp', 'Rapid', 'Fethi_khoussa27', 1683, 'balefire', 1656, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,e6,Nc3,Nge7,Bg5,h6,Bh4,g5,Bg3,d5,Bb5,d4,Nce2', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/sLSyp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sltae', 'Rapid', 'venslugen', 1982, 'Enrocarlsen081', 1996, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,Nc6,O-O-O,O-O,Bh6,Nxd4,Bxg7,Kxg7,Qxd4,Be6,f4,Kg8,e5,Ne8,h4,h5,Be2,Qb6,Qxb6,axb6,a3,Bf5,Rhg1,dxe5,fxe5,Rc8,g4,hxg4,Bxg4,e6,Bxf5,exf5,h5,Kg7,hxg6,fxg6,Nd5,Nc7,Ne7,Rce8,Rxg6+,Kf7,Rh1,Kxe7,Rh7+,Kd8,Rxb6,Re7,Rxe7,Kxe7,Rxb7,Rc8,Kd2,Ke6,Ke3,Kxe5,c3,Nd5+,Kf3,Rh8,Rb5,Rh3+,Kg2,Rd3,c4,f4', 'Rxd5+,Ke4,Rxd3', 'https://lichess.org/training/Sltae');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLuWX', 'Classical', 'AndreyAl', 1893, 'aroniyan2222', 1888, 'e4,g6,Nc3,Bg7,Nf3,d6,d4,e5,d5,Nf6,Bg5,O-O,Qd2,Nbd7,h4,h5,Bh6,Nc5,Bxg7,Kxg7,Bd3,a5,a4,c6,Nh2,Qb6,f4,Qb4,O-O-O,Nfxe4,Nxe4,Nxe4', 'Qxb4,axb4,Bxe4', 'https://lichess.org/training/sLuWX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLvlX', 'Rapid', 'ASADI_A', 2161, 'viruuzi', 2036, 'e4,c5,Bc4,d6,f4,Nc6,Nf3,Nf6,Nc3,a6,e5,dxe5,fxe5,Ng4,e6,Bxe6,Bxe6,fxe6,Ng5,Qd4,Qf3,Qe5+,Nce4,Nf6,O-O,h6,Nxf6+,exf6,Qh5+,Kd7,Qf7+,Ne7,d4,Qxd4+,Kh1,hxg5,Bxg5,Qc4,Rfd1+,Kc7,b3,Qe4,Re1,Qh7,Bf4+,Kb6,Qxe6+,Ka7,b4,Nf5,b5,g5', 'b6#', 'https://lichess.org/training/sLvlX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLwya', 'Rapid', 'sergeypirog', 1875, 'wilmer007t', 1879, 'd4,d5,c4,c6,Nc3,Nf6,e3,Bf5,Qb3,Qc7,cxd5,e6,dxe6,Bxe6,Bc4,Bxc4,Qxc4,Nbd7,Nf3,Bd6,O-O,O-O,a3,h6,b4,b5,Qd3,a5,bxa5,Rxa5,a4,b4,Ne4,Rfa8,Nxd6,Qxd6,Qb3,Nb6,Bd2,Rxa4,Rxa4,Rxa4,Rb1,Nfd5,e4,Ra3,Qc2,Nc3,Bxc3,Rxc3,Qb2,Nc4,Qa2,c5,Qa8+,Kh7,dxc5,Qxc5,h3,Rc2,Rf1,b3,e5,b2', 'Qe4+,Kg8,Qxc2', 'https://lichess.org/training/sLwya');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SLx0Z', 'Classical', 'julio59', 2003, 'goashim', 1785, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,c6,e3,Be7,Nf3,a6,Bd3,dxc4,Bxc4,b5,Bd3,O-O,O-O,Nbd7,Qc2,h6,Bh4,Bb7,Rac1,Rc8,Ne5,c5,Nxd7,Qxd7,dxc5,Rxc5,Qe2,Rfc8,a3,Qc6,f3,Qd7,Rcd1,Qe8,Bb1,Rh5,Bg3,Bxa3,Nxb5,Be7,Nd6,Bxd6,Rxd6,Rd5,Rxd5,Nxd5,Qd3,Nf6,Be5,Rd8,Qb3,Bd5,Qb6,Rc8,Bxf6,gxf6,Qd4,Bc4,Rc1,e5', 'Qg4+,Kf8,Rxc4', 'https://lichess.org/training/SLx0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SLxJ8', 'Blitz', 'Niklaskowski', 1798, 'radioclash', 1786, 'e4,d6,Nf3,g6,d4,Bg7,c4,h6,Nc3,e6,Be3,a6,Bd3,g5,Qd2,g4,Ng1,Nc6,Nge2,Nge7,O-O-O,Ng6,e5,Nb4,Bxg6,fxg6,a3,Nc6,exd6,Qxd6,Bf4,Qe7,Rhe1,g5,Bg3,O-O,Ng1,b6,h3,h5,hxg4,hxg4,Re2,Bb7,d5,Na5,Rxe6,Qc5,Qxg5,Qxc4,Be5,Nb3+,Kc2,Rf7,Bxg7,Rxg7,Qe5,Rf8,Re8,Nc5,Rxf8+,Kxf8,Qf6+,Rf7,Qh8+,Ke7,Re1+,Kd7,Qe8+,Kd6,Qxf7', 'Qd3+,Kc1,Nb3#', 'https://lichess.org/training/SLxJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLxjx', 'Rapid', 'masoud099', 1782, 'imahgoub', 1811, 'd4,Nf6,c4,e6,e3,d5,f4,b6,Nf3,Bb7,Nc3,Nbd7,Be2,Be7,O-O,O-O,a3,c5,h3,cxd4,Nxd4,e5,fxe5,Nxe5,cxd5,Nxd5,Nxd5,Qxd5,Bf3,Nxf3+,Qxf3,Qd7,Qe2,Bc5,Rf4,Rfe8,Bd2,a5,Qd3,Ba6,Qf5,Qe7,Nc6,Qd6,Qxf7+,Kh8,Bc3,Bxe3+,Kh1,Rg8,Rg4,Bh6,Ne7,Raf8,Rxg7,Bxg7', 'Bxg7+,Rxg7,Qxf8+,Rg8,Qxg8#', 'https://lichess.org/training/sLxjx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SlZ4Z', 'Rapid', 'anishmeyal', 1835, 'chesscraftsman', 1839, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,Re1+,Be7,d4,Nf6,Bg5,O-O,Bxf6,Bxf6,c3,Rfe8,Rxe8+,Rxe8,Qc2,cxd4,cxd4,Nxd4,Nxd4', 'Re1#', 'https://lichess.org/training/SlZ4Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sLzc3', 'Blitz', 'Stefan400', 2186, 'haro2', 2208, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Nbd7,cxd5,cxd5,Bf4,e6,e3,Be7,Bd3,O-O,h3,a6,g4,Ne8,g5,Bd6,Ne2,Bxf4,Nxf4,Nd6,Qc2,g6,h4,Nb6,b3,Bd7,a4,Rc8,Qe2,Ne4,Bxe4,dxe4,Nh2,Nd5,Ng4,Nxf4,exf4,Bc6,Nf6+,Kg7,h5,Qxd4,Rd1,Qc3+,Kf1,e3,Rh3,Rfd8,hxg6', 'Rxd1+,Qxd1,e2+,Kxe2,Qxh3', 'https://lichess.org/training/sLzc3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SM17b', 'Blitz', 'Schnabel6', 1929, 'Doinkster', 1847, 'e4,c5,Nf3,e6,c3,d5,exd5,Qxd5,d4,Nc6,Be3,Nf6,Be2,Ng4,O-O,Nxe3,fxe3,cxd4,exd4,Be7,Nbd2,O-O,Kh1,e5,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qc7,Bd3,Bg4,Qc2,h6,Rae1,Bd6,h3,Bd7,Nd4,Rfe8,Bb5,Bg3,Rxe8+,Rxe8,Bxd7,Qxd7,Qd3,Bb8,Qf3,Qc7,g3,Qxg3,Qxf7+,Kh7,Qf5+,Kh8,Nf3,Bc7,Qg4,Qxg4,hxg4,Rf8,Nd2,Rxf1+,Nxf1,Kh7,Kg2,Kg6,Kf3,h5,gxh5+,Kxh5,Ne3,g5,Nd5,Bd6,Nf6+,Kh4,Ng4,Bf4,b3,a5,a4,b6,Nf6,Kh3,c4,Bd6,Ng4,Bc5,Nf6,Kh4,Ng4,Bb4,Nf6,Bc3,Nd5,g4+,Kg2,Bb4,Nxb4,axb4,c5,bxc5,a5,c4,bxc4,b3,a6,b2,a7,b1=Q,a8=Q,Qc2+,Kg1,Qc1+,Kh2,Qd2+,Kg1,Qe1+,Kg2,Qg3+,Kf1,Qd3+,Kg1,Qxc4,Qh8+,Kg5,Qg7+,Kf4,Qf6+,Kg3', 'Qf2+,Kh3,Qh2#', 'https://lichess.org/training/SM17b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sm26t', 'Rapid', 'KcEp752', 1962, 'LuxCactus', 1974, 'e4,e6,d4,d5,exd5,exd5,c4,c6,Nc3,Nf6,Bg5,Bd6,cxd5,cxd5,Nxd5', 'Qa5+,Nc3,Qxg5', 'https://lichess.org/training/Sm26t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sM3Ka', 'Rapid', 'KingSniper001', 2121, 'Clever_Pants', 2006, 'd4,e6,Nf3,d5,e3,Nf6,Bd3,c5,O-O,Nc6,b3,Bd6,Bb2,O-O,Ne5,Bxe5,dxe5,Nd7,f4,b6,Qh5,g6,Qh6,Bb7,Nd2,Qc7,Nf3,f5,exf6,Nxf6,Bxf6,Rxf6,Ng5,Raf8,e4,a5,e5,Rxf4,Rxf4,Rxf4,Nxe6,Qxe5,Nxf4,Qxa1+,Kf2,Qd4+,Kf1,Ne5,Ne6,Ng4', 'Qf8#', 'https://lichess.org/training/sM3Ka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SM88o', 'Blitz', 'Sil80', 1955, 'Schokoladenzeit', 2047, 'd4,f5,e3,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,Nf3,a6,Bd3,d6,O-O,b6,a3,Bxc3,bxc3,Bb7,Qc2,Bxf3,gxf3,Nh5,Kh1,Qh4,Be1,Qh3,Be2,Rf6,Rg1,Nd7,Qd1,Rh6,Bf1', 'Ng3+,Rxg3,Qxh2#', 'https://lichess.org/training/SM88o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sm9NT', 'Rapid', 'e_safarz', 2298, 'eddyzi', 2211, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,a5,a4,Ng4,Qxg4,Nxd4,Qd1,Nxb3,cxb3,d6,O-O,Be6,f4,f5,Re1,Qd7,Nd5,Bxd5,exd5,Bxb2,Bd4,Bxd4+,Qxd4,b5,Re6,bxa4,Rae1,Qa7,Qxa7,Rxa7,bxa4,Kf7,R1e3,Rc7,Rh3,h5,Rg3,Rg8,Rge3,Rb8,h3,h4,Kf2,Rb4,g3,hxg3+,Kxg3,Rxa4,Kh4,Rxf4+,Kg5,Rf2,Rg3,Rc5,Rxg6,f4,Rg4,Rxd5+,Kh6,a4,Rg8,Ra5,R4g7+,Ke6,Re8,a3', 'Rexe7+,Kd5,Rg5+,Kc6,Rxa5', 'https://lichess.org/training/sm9NT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SM9xZ', 'Rapid', 'melekt', 1774, 'bahadirbudak', 1877, 'e4,Nf6,e5,Nd5,d4,d6,a4,a5,Bb5+,Nc6,Nf3,Bg4,h3,Bh5,g4,Bg6,Ng5,dxe5,dxe5,Nb6,Qxd8+,Rxd8,e6,fxe6,Nxe6,Rd7,Bf4,Bxc2,Nxc7+,Kf7,Na3,Be4,O-O,e5,Bxc6,bxc6,Bxe5,Bc5,Na6,Bxa3,Rxa3,Nc4,Nc5,Rd5,Nxe4,Rxe5,Rf3+,Kg6,Ng3,Nd2,Re3', 'Rxe3,fxe3,Nxf1', 'https://lichess.org/training/SM9xZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SMAJX', 'Classical', 'holgerloehr', 1940, 'chuckbranson', 1942, 'c4,e5,Nc3,Bb4,Qc2,Nc6,a3,Bxc3,Qxc3,d5,b4,Bf5,b5,d4,Qg3,Qf6,bxc6,d3,cxb7,Rb8,Bb2,Rxb7,Bxe5,Qb6,Rd1,Ne7,Qe3,Qa6,Bxg7,Rg8,Bc3,Qxc4,exd3,Qc6,Bb4,Rxb4,axb4,Rg6,Ne2,Re6,Qxa7,Bxd3,f3,Ng6,Kf2,Qc4,Qd4', 'Rxe2+,Bxe2,Qxd4+', 'https://lichess.org/training/SMAJX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SmBbq', 'Blitz', 'Marisn', 1999, 'afganboy', 1983, 'd4,Nf6,Nc3,d5,Bf4,c6,e3,Bf5,f3,h6,g4,Bh7,h4,h5,g5,Nfd7,Bd3,Bxd3,Qxd3,g6,Nge2,Bg7,O-O-O,e5,dxe5,Nxe5,Bxe5,Bxe5,f4,Bc7,e4,Na6,f5,dxe4,Qxe4+,Qe7,Qd4,O-O,fxg6,fxg6,Ne4,Be5,Qc4+,Qf7,Qa4,Rad8,Rdf1', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/SmBbq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('smbHl', 'Rapid', 'RememberHaruMamburu', 1630, 'RomanSort', 1710, 'd4,d5,Bf4,Nf6,e3,Bf5,c4,e6,c5,c6,Qb3,Qc8,Nf3,Nbd7,h3,Be7,Nbd2,Ne4,Bd3,Nxd2,Nxd2,Bg6,Bxg6,hxg6,Nf3,b5,Ne5,Nxe5,Bxe5,Bd8,Bxg7,Rh7,Be5,Bc7,Bf6,Qa6,O-O,Qb7,a4,a6,axb5,axb5,Qd3,Kd7,Ra3,Rh5,e4,Rxa3,bxa3,dxe4,Qxe4,Rf5,Bh4', 'Rf4,Qe3,Rxh4', 'https://lichess.org/training/smbHl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SmC7y', 'Rapid', 'lsmkenpo', 1770, 'prueba10', 1790, 'e4,d6,d4,Nf6,Nc3,g6,Bg5,Bg7,Qc1,Nc6,Nf3,e5,d5,Nb4,a3,Na6,Bh6,Bxh6,Qxh6,Qe7,Bb5+,Bd7,b4,Rg8,O-O,g5,Nxg5,Ng4,Bxd7+,Kxd7,Qh3,Rxg5,f3,Rag8,fxg4,Kd8,Qxh7,Rxg4,g3,Qg5,Ne2,Qe3+,Rf2,Qxe4,Qxe4,Rxe4,Nc3,Rc4,Ne2,Rxc2,Raf1,f5,Kh1,Ra2,g4,Rxg4,Ng3,Rxa3,Rxf5,Rf4,Rf8+,Rxf8,Rxf8+,Ke7,Rc8,Kd7,Rh8,Nxb4,Kg2,Nxd5,h4,Nf4+,Kf2,Ra2+,Kf3,Ra3+,Kg4,Ra4,Kg5,Nh3+,Kh5,e4,Kg4,Nf2+,Kg5,e3,h5,Ne4+,Kf4,Nxg3+,Kxg3,e2,Kf2,Re4,Ke1,d5,h6,Re8', 'Rxe8,Kxe8,h7', 'https://lichess.org/training/SmC7y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sMCuy', 'Rapid', 'LordRezox', 1800, 'nivekums', 1753, 'e4,e5,Nf3,d6,Bc4,h6,c3,a6,d4,exd4,cxd4,Nf6,Nc3,Be7,O-O,O-O,Be3,Nh7,Qe2,Nd7,e5,dxe5,d5,Bd6,Bd3,Ndf6,Qd2,Ng4,Bxh7+,Kxh7,h3,Nxe3,Qxe3,Qf6,Rfe1,Bf5,Nxe5,Bxe5,Qxe5,Qg6,Qxc7,Bxh3,g3,Qf5,Re3,Qc2,Rd1,Qxb2,d6,Rac8,Qa5,Rcd8,Kh2,Qxf2+,Kxh3,Qxe3,Qf5+,Kg8,Rd3,Qg1,Qf3,Qb6,d7,Qe6+,Qg4,h5,Qxe6,fxe6,Ne4,Rf7,Nc5,e5,Rd5,Rf2,Rxe5,Rxa2', 'Re8+,Kf7,Rxd8', 'https://lichess.org/training/sMCuy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SMdtm', 'Rapid', 'mistakeman', 1744, 'bobkodp', 2079, 'Nf3,d6,d4,g6,e4,Nf6,Nc3,Bg7,e5,dxe5,Nxe5,O-O,Bf4,Nd5,Nxd5,Qxd5,f3,Bxe5,Bxe5,Nc6,Bd3,Nxe5,dxe5,Qxe5+,Be2,Qxb2,O-O,b6,Bc4,Bf5,Bb3,Rfd8,Qe2,Qd4+,Kh1,Qf6,Rae1,Re8,Qb5,c6,Qe2,a5,a4,Ra7,Qf2,c5,Qe2,Bc8,Qf2,Ba6,Rg1,Rd7,Qg3,c4,Ba2,Qc6,c3,Qxa4,Qg4,Rd3,Ra1,Qc6,Rgc1,Red8,h3,Rd2,Bb1,Rd1+,Rxd1,Rxd1+,Kh2,Qd6+,f4,Bb7,Bxg6,Rd2', 'Be4+,Kf8,Bxb7', 'https://lichess.org/training/SMdtm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('smDUu', 'Blitz', 'petisolancero', 1982, 'FM Pacothelegend', 2310, 'e4,g6,Bc4,Bg7,h4,Nf6,h5,Nxh5,Rxh5,gxh5,Nc3,e6,Qxh5,Qf6,Nf3,Qg6,Qh2,d6,d4,Nc6,Be3,Bd7,Nh4,Qh5,Be2,Qa5,O-O-O,e5,Kb1,exd4,Qg3,Be5,f4,dxc3,fxe5,Qb4,b3,Nxe5', 'Rd4,Qa3,Bc1,Qc5,Rd5,Qxd5,exd5', 'https://lichess.org/training/smDUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sMerq', 'Rapid', 'nilton2004', 1722, 'KylianMbappe2019', 1722, 'd4,e6,c4,d5,Nc3,c5,Nf3,Nc6,e3,g6,b3,cxd4,exd4,Bg7,Be3,Nf6,Rc1,Qa5,Bd2,Qb6,Be3,a5,c5,Qb4,Bd2,Qa3,Nb5,Qxa2,Nc7+,Kf8,Nxa8,Nb4,Nb6,Ne4,Ra1', 'Nc2+,Qxc2,Qxc2', 'https://lichess.org/training/sMerq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SMEY4', 'Classical', 'henry901', 1785, 'danmanning', 1617, 'd4,Nf6,c4,e6,Nf3,d5,g3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,Bg2,dxc4,Nxc4,b5,Nfe5,Nd5,Na5,c5,Nac6,Nxc6,Nxc6,Qc7,Ne5,Qa5+,Qd2,Qxd2+,Kxd2,cxd4,Bxd5,exd5,Kd3,Be6,Kxd4,Rac8,Rac1,Rc4+,Nxc4,bxc4,f4,f5,Ke5,Kf7,Rc3,Rb8,b3,Rc8,bxc4,dxc4,Rb1,Rc7,Rb4,a5,Ra4,Rc5+,Kd6,Rd5+,Kc6,Rd2,Re3', 'Bd7+,Kb6,Bxa4', 'https://lichess.org/training/SMEY4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SmeyK', 'Rapid', 'guraynuray', 1727, 'ARAUKANO', 1754, 'c4,Nf6,g3,e5,Nc3,Bb4,Bg2,Bxc3,bxc3,c6,d4,e4,Bf4,d5,cxd5,cxd5,e3,O-O,Ne2,h6,O-O,b5,Qb3,a6,a4,Bg4,Nc1,Be2,Nxe2,bxa4,Qxa4,Nbd7,c4,Nb6,Qb4,Nxc4,Nc3,Nd2,Qc5,Nf3+,Bxf3,exf3,Rfb1,Qd7,Kf1,Qh3+,Ke1,Qxh2,Nxd5,Ne4,Qc2,Rac8,Qxe4', 'Qg1+,Kd2,Qxf2+,Kd3,Qe2#', 'https://lichess.org/training/SmeyK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Smhe7', 'Blitz', 'somarghazi1', 1858, 'EyEmAn67', 1930, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,c6,Bd3,Ne7,h3,O-O,O-O,Bf5,Re1,Nd7,Rxe7,Bxd3,Rxd7,Qxd7,Qxd3,Rfe8,Bd2,Re7,Ng5,g6,Nf3,Rae8,Bh6,b5,Ne5,Bxe5,dxe5,Rxe5,Qf3,Qd6,Bf4,Re1+,Rxe1,Rxe1+,Kh2,Qf6,Qg3,d4,Bh6,Qd8,Bg5,Qe8,Qh4,dxc3,bxc3,h5,Bf6,Qe6,Qg5,Qd6+,g3,Re2,Bd4,c5,Be3,Qe6,Qd8+,Kh7,Qd3,Re1,Qd2,Ra1,Bxc5,Qxa2', 'Bf8,Kg8,Qh6,Rh1+,Kxh1', 'https://lichess.org/training/Smhe7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SMiLc', 'Classical', 'Alpams16', 1668, 'Lasombra16', 1614, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,d3,Nf6,Ng5,d5,Bb3,Bc5,c4,dxc4,Bxc4,Bxf2+,Kxf2,Ng4+,Ke1,O-O,h3,Nf6,Nc3,a6,Be3,b5,Bb3,Bb7,d4,exd4,Bxd4,Bxg2,Rg1,Re8+,Ne2,Bd5,Bc2,Qe7,Qd3,Bc4,Bxf6,Bxd3,Bxe7,Bxc2,Bb4,Bd3,Rg2,Nc6,Bc3,h6,Nf3,b4,Bd2,Re6,Kf2,g5,Rag1,Rae8,Nc1,Bg6,h4,gxh4,Nxh4,Kg7,Nf5+,Kf8,Bxh6+,Kg8,Nh4,Rf6+,Kg3,Kh7,Bd2,Be4,Rh2', 'Rg8+,Ng6+,Kxg6,Kh4+,Kh7,Rxg8,Kxg8', 'https://lichess.org/training/SMiLc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sMILw', 'Classical', 'h-razavi', 1956, 'LamkiZiaf', 1810, 'e4,e6,d4,d5,e5,c5,Qg4,Qb6,Nf3,cxd4,Bd3,g6,h4,Nc6,h5,Nge7,hxg6,Nxg6,Bxg6,fxg6,c3,dxc3,Nxc3,Bb4,Bd2,Bd7,Qxg6+,hxg6,Rxh8+,Ke7,Rxa8,Bxc3,Bxc3,d4,Bd2,Qxb2,Rd1,d3,Bg5+,Kf7,Rxd3,Nxe5,Rb3,Nxf3+', 'Rxf3+,Kg7,Bf6+', 'https://lichess.org/training/sMILw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Smixi', 'Classical', 'djgr887', 1714, 'vajojozsef', 1828, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bb5+,Bd7,Bxd7+,Nbxd7,Be3,Bg7,O-O,O-O,Nf3,Rc8,Ne2,a6,Ng3,Nc5,Bxc5,Rxc5,c3,Qb6,Rb1,Rfc8,Re1,Ng4,Re2,Ne5,Nxe5,Bxe5,Re3,Qa5', 'b4,Qc7,bxc5', 'https://lichess.org/training/Smixi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sMJYz', 'Blitz', 'JM_Ortiz', 2060, 'Sissa1968', 2066, 'e4,e6,e5,d5,exd6,Bxd6,Nf3,g6,b3,Nf6,Nc3,O-O,Bb2,Be7,d3,c6,Qd2,Nd5,Nxd5,exd5,Qh6,Bf6,Ng5,Re8+,Kd1,Bxb2', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/sMJYz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SMkAi', 'Blitz', 'BennyDoffman', 2286, 'RyuGabby', 2254, 'd4,Nf6,c4,g6,f3,d5,cxd5,Nxd5,e4,Nb6,Nc3,Bg7,Be3,O-O,Qd2,Nc6,O-O-O,e5,d5,Nd4,f4,Bg4,Re1,c5,fxe5,Bxe5,h3,Qh4,hxg4,Qxh1,Qf2,Qh2,Nge2,Nxe2+,Qxe2,Qh4,Kb1,Rfe8,Bxc5,Rac8,Bb4,Nc4,Nd1,Nd6,Qf3,b6,Ba6,Rc7,Rf1,Qg5,Bc3,Bxc3,Nxc3,Qe5,Bd3,a6,Bxa6,Nxe4,Nxe4,Qxe4+,Qxe4,Rxe4,Rd1,Rxg4,d6,Rd7,Bb5,Rd8,Bc6,Rb4,a3,Rf4,d7,Kf8', 'Re1,Kg7,Re8,Rxd7,Bxd7', 'https://lichess.org/training/SMkAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('smMDM', 'Blitz', 'MrDas12345', 1854, 'BLUE_NIGHTMARE', 1770, 'e4,e5,f4,Nc6,Nf3,d6,Bb5,Bd7,O-O,exf4,d4,Nf6,Nc3,Be7,Bxf4,O-O,Qe2,a6,Bxc6,Bxc6,d5,Bd7,e5,dxe5,Nxe5,Bd6,Nxd7,Qxd7,Bxd6,Qxd6,Qf3,Rae8,Rad1,Re5,Rf2,Rfe8,Rfd2,Re3,Qf2,Ng4,Qh4,Qxh2+,Qxh2', 'Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/smMDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sMMFb', 'Rapid', 'Mrozek1', 1790, 'averell77', 1817, 'e4,c6,d4,d5,e5,Nd7,Nf3,c5,c4,cxd4,cxd5,Qa5+,Qd2,Qxd5,Qxd4,Qxd4,Nxd4,Nxe5,Bf4,Nc6,Bb5,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Nf6,Nc3,e6,Rac1,Be7,Bg5,O-O,Ne4,Nxe4,Bxe7,Rfe8,Bb4,a5,Ba3,h6,Rxc6,Red8,Rfc1,Rd2,Rc8+,Rxc8,Rxc8+,Kh7,Kf1,Rxf2+,Kg1,Rd2,Kf1,f5,Re8,Rf2+,Kg1,Rc2,h3,Rc6,b4,axb4,Bxb4,Rc1+,Kh2,Rc6,Ra8,Nc5,Bxc5,Rxc5,a4,e5,a5,e4,Kg1,f4,a6,e3,Kf1,g5,a7,Ra5,Ke2,Ra2+,Ke1,Kg6', 'Rg8+,Kh5,a8=Q,Rxa8,Rxa8', 'https://lichess.org/training/sMMFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('smMgZ', 'Rapid', 'Treppenhouse', 1905, 'Harcos', 1834, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,c5,Bf4,Nf6,Bd3,Be7,O-O,O-O,e5,Nd5,Nxd5,Bxd5,c4,Bb7,Re1,cxd4,Nxd4,Nc6,a3,Nxd4,Bxh7+,Kxh7,Qxd4,Bg5,Re3,Bxf4,Qxf4,g5,Rh3+,Kg6,Qg4,Rh8,Rg3,f5,exf6,Qxf6,h4,Raf8,Rf1,Qf5,Qd4,Bc6', 'Rxg5+,Qxg5,hxg5', 'https://lichess.org/training/smMgZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SMPx2', 'Blitz', 'Arisman_kuningan', 1999, 'lettoy_aza', 2184, 'e4,c5,Nf3,d6,c3,e6,d4,cxd4,cxd4,a6,Nc3,Be7,Bd3,Nf6,O-O,O-O,Re1,Re8,a3,Nbd7,Bg5,Nf8,Bxf6,Bxf6,e5,Be7,Qe2,b5,Qe4,Rb8,Rad1,Bb7,Qe2,Qb6,Ne4,Rbd8,exd6,Bxd6,Neg5,h6,Ne4,Be7,h3,Rd7,Ne5,Rxd4,Qh5,Ng6,Nxg6,fxg6,Qxg6,Qc6,Nf6+,Bxf6,Qh7+,Kf8,f3,Red8,Re3,R4d6,Kh1,Qd7,h4,Qe7,h5,Bg5,f4,Bxf4,Rf1,Qh4+,Kg1,Qh2+,Kf2,Ke7,Rh3,Qxg2+,Ke1,Qxh3', 'Qxg7+,Ke8,Bg6#', 'https://lichess.org/training/SMPx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SmPzL', 'Rapid', 'billybonesss', 1685, 'ScoopidyWoop', 1635, 'd4,Nf6,Bg5,h6,Bxf6,exf6,e4,Bd6,Nf3,Nc6,d5,Ne5,Bb5,a6,Ba4,b5,Bb3,a5,a4,b4,Nbd2,Ba6,Nxe5,Bxe5,Rb1,O-O,Bc4,c6,O-O,cxd5,exd5,Qc7,b3,Bxh2+,Kh1,Bxc4,bxc4,Be5,Qg4,f5,Qxf5,Rfe8,f4,Bc3,Rbd1,Bxd2,Rxd2,Rad8,Rd4,Qb6,Rfd1,Re2,R1d2,Re1+,Kh2,Ra1,d6,Rxa4,c5,Qb5,Rd5,Qc4,R5d4,Qf1,Re4,Ra1,Rde2,Qg1+,Kg3,Ra3+,Kg4,g6', 'Re8+,Rxe8,Rxe8+,Kg7,Qe5+,Kh7,Qh8#', 'https://lichess.org/training/SmPzL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('smqBu', 'Rapid', 'beweje', 1698, 'arkovermoon', 1696, 'e4,Nc6,Bc4,e5,d3,Nf6,a3,Bc5,Nf3,d6,h3,O-O,Bg5,Nd4,Nbd2,b5,Ba2,h6,Bh4,c6,c3,Ne6,Qc2,d5,Nxe5,Qd6,Nef3,dxe4,dxe4,Nh5,Rd1,Nhf4,O-O,Nxh3+,gxh3,Nf4,Bg3,Nxh3+,Kg2,Qg6,Ne5', 'Nf4+,Kh1,Qh5+,Bh2,Qxe5', 'https://lichess.org/training/smqBu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SmQWl', 'Rapid', 'LawyerBrazil', 1644, 'Ritesh1212', 1629, 'e4,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Nf3,Nc6,Bb5,f6,Nc3,Nb4,Ba4,Bd7,Bb3,a5,a3,Nc6,Be3,f5,O-O-O,fxe4,Nxe4,Kc8,Nc5,Bg4,Rd2,Bxf3', 'Be6+,Kb8,Nd7+', 'https://lichess.org/training/SmQWl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SMr9J', 'Classical', 'albertagung', 1706, 'nhumrich', 1852, 'f4,f5,e3,Nc6,Nf3,d6,b3,e5,fxe5,dxe5,Bb2,e4,Ne5,Bd6', 'Qh5+,g6,Nxg6', 'https://lichess.org/training/SMr9J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SmRJd', 'Rapid', 'prasanth850', 1768, 'Apsuva', 1750, 'e4,e5,Nf3,Nc6,Bc4,Nf6,c3,Nxe4,d4,d6,dxe5,dxe5,Qe2,f5,O-O,Qe7,Be3,Be6,Nbd2,Nxd2,Bxd2,e4,Bxe6,Qxe6,Ng5,Qg6,f3,Be7,fxe4,Bxg5', 'exf5+,Be7,fxg6', 'https://lichess.org/training/SmRJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SmseB', 'Rapid', 'Dennis1989', 2255, 'SShaxd', 2451, 'e4,c5,Nc3,e6,f4,d5,Nf3,d4,Nb1,Nc6,a4,Bd6,d3,Nge7,Be2,O-O,O-O,e5,f5,Bd7,Nbd2,f6,Nc4,Bc7,Qe1,a6,Bd2,b5,Na3,bxa4,Nc4,Nb4,Bxb4,cxb4,Qxb4,Rb8,Qa3,Bb5,Nfd2,g6,fxg6,hxg6,Rf3,Nc6,Raf1,Kg7,Rg3,Qe7,Qa1,Nb4,c3,Nc2,Qc1,Ne3,Nxe3,dxe3,Nf3,g5,Nh4,Bd7,Nf5+,Bxf5,Rxf5,Rh8,Kh1,a3,bxa3,Bd6,a4,Ba3,Qxe3,Rb1+,Rf1,Rxf1+,Bxf1,Bc5,d4,Bb6,Qd3,exd4,cxd4,Rd8,d5', 'Qc5,Qe3,Qxe3,Rxe3,Bxe3', 'https://lichess.org/training/SmseB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('smspx', 'Rapid', 'MessimontanaII', 1739, 'GodOfGods', 1707, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Be2,Ng4,O-O,Nxf2,Rxf2,Bxf2+,Kxf2,Qh4+,Kg1,O-O,Bd2,d5,Bf3,dxe4,Nxe4,Re8,Qe1,Qxe1+,Bxe1,Ba6,Nc5,Bb5,a4,Re5,axb5,Rxc5,Bxc6,Rd8,c3,g5,Bf2,Rf5,Bd4,h5,Rxa7,Rd6,b4,Re6,h3,g4,Ra8+,Kh7,hxg4,hxg4,Kh2,Rg6,Kg3,Rf1,Be4,f5,Bd3', 'f4+,Kh2,g3+,Kh3,Rh1#', 'https://lichess.org/training/smspx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('smT6R', 'Rapid', 'alirezap', 1653, 'josuehita', 1815, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,Be7,Bc4,h6,d4,exd4,Nxd4,a6,f4,b5,Bb3,c5,Nf5,c4,Nxg7+,Kf8,Nh5,cxb3,Nxf6,Bxf6,axb3,Bb7,Qf3,Nc6,Nd5,Nd4,Qd1,Bxd5,exd5,Rc8,c3,Nf5,Rxa6,Ng3,Rg1,Ne4,Be3,Qe7,Ra7,Qe8,b4,Bh4+,Ke2,Rg8,g4,Ra8,Rxa8,Qxa8,Qd4,Qe8,f5,Bg5,Kf3,Bxe3,Qxe3,Nf6', 'Qxh6+,Rg7,Qxf6', 'https://lichess.org/training/smT6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('smTEM', 'Blitz', 'Edoardo90', 2217, 'WaisKamal', 2082, 'd4,f5,Bf4,Nf6,c3,g6,e3,Bg7,Nd2,O-O,Ngf3,d6,Bd3,Nbd7,h3,Re8,Bh2,e5,Qb3+,Kh8,Ng5,Qe7,Nf7+,Kg8,Nxe5+,Kf8,Nxd7+,Bxd7,O-O,b6,Rfe1,Be6,Qc2,Kg8,e4,fxe4,Nxe4,Rad8,Ng5,Qd7,Nxe6,Rxe6,Bc4,d5,Bd3,Rde8,Kf1,Ne4,Bxe4,dxe4,Re2,Qc6,Rae1,h6,Qd2,Qc4,a3,a5,Qf4,g5,Qxc7,Qb3,Qb7,R8e7,Qa8+,Re8,Qa6,a4,Qb7,R8e7,Qb8+,Re8,Qg3,b5,Qe3,Rf6,Qd2,Ref8,Kg1,Kh8,Be5,Rf5,Bxg7+,Kxg7,Rf1,Rf4,Qc2,Qd5,Re3,g4,hxg4,Rxg4,Rfe1,Qg5,g3,Rf3,Rxf3,exf3,Qd3', 'Rxg3+,fxg3,Qxg3+,Kf1,Qg2#', 'https://lichess.org/training/smTEM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sMu20', 'Rapid', 'Kill_each', 1834, 'aleksei13061984', 1824, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,e5,Qa5+,Nc3,Qxe5+,Be3,Nc6,Nf3,Qd6,Bd3,Be7,O-O,O-O,Bg5,Kh8,Re1,a6,Qe2,b5,Rad1,Qc7,Bxf6,Bxf6,Qe4,g6,h4,Bb7,h5,Ne7,Qg4,Bxc3,bxc3,Bxf3,Qxf3,d5', 'Qf6+,Kg8,h6', 'https://lichess.org/training/sMu20');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('smVNR', 'Rapid', 'Chessmaste', 2213, 'why_nothing', 2055, 'e4,e5,f4,Nc6,Nf3,f5,exf5,e4,Qe2,Nf6,d3,d5,Ne5,Nd4,Qf2,Nxf5,g4,Nd6,h3,Be7,Be2,Be6,O-O,O-O,b3,Nd7,Bb2,Bf6,d4,Rc8,Na3,c5,Rad1,cxd4,Nxd7,Qxd7,Bxd4,b6,f5,Bxf5,gxf5,Nxf5,Bxf6,Rxf6,Bg4,Rcf8,Nc4,d4,Kh1,e3,Qf3,e2,Qxe2,Ng3+,Kg2,Nxe2,Bxd7,Nf4+,Kh2,g5,Rxd4,Ne2,Rxf6,Rxf6,Re4', 'Rf2+,Kh1,Ng3+,Kg1,Nxe4', 'https://lichess.org/training/smVNR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sMvv6', 'Rapid', 'chess21320', 2267, 'saeedsazegari', 2203, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Bd7,b4,cxd4,cxd4,Nge7,Be3,Nf5,Bd3,Nxe3,fxe3,g6,O-O,Bg7,Nbd2,O-O,Nb3,Ne7,Qe2,a6,a4,Qxb4,Nc5,Bc6,Rab1,Qa5,Nxb7,Bxb7,Rxb7,Nc6,Ng5,Qxa4,Qf3,Nd8,Bxg6,hxg6,Qh3,Re8,Qh7+,Kf8,Rfxf7+,Nxf7', 'Rxf7#', 'https://lichess.org/training/sMvv6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SMWp2', 'Rapid', 'yosia35', 1767, 'Rogenrogen', 1751, 'Nf3,Nc6,c4,Nf6,d4,e6,Bg5,Bb4+,Nc3,h6,Bh4,g5,Bg3,d6,a3,Bxc3+,bxc3,Ne4,d5,exd5,cxd5,Qf6,dxc6', 'Qxc3+,Nd2,Nxd2,Qxd2,Qxa1+', 'https://lichess.org/training/SMWp2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('smx3U', 'Classical', 'Esimkhan', 1903, 'Classyplayer', 2000, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,Nf6,Re1,e6,c3,Nxe4,Rxe4,d5,Bxd5,Qxd5,d3,Be7,Bf4,O-O,Na3,a6,Nc4,Qd8,d4,b5,Nce5,Bb7,Re3,Nxe5,Bxe5,Qb6,Qd2,Qc6,Re2,Rad8,Rd1,f6,Bg3,e5,Qe3,Rfe8,Rdd2,exd4,cxd4,cxd4,Qb3+,Kh8,Qf7,Bb4,Rxd4,Qc1+,Ne1', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/smx3U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SmX40', 'Classical', '2007gabor', 1883, 'naser6161', 1892, 'f4,Nf6,Nf3,g6,c4,c5,Nc3,Nc6,e4,d6,Be2,Bg7,O-O,Nd4,d3,Nxe2+,Qxe2,O-O,Rb1,a6,b3,Bg4,Kh1,Nd7,Nd5,e6,Ne3,Bxf3,Rxf3,Nb8,Rh3,Nc6,Nc2,Nd4,Nxd4,Bxd4,f5,exf5,exf5,Re8,Be3,Rxe3,Rxe3,Bxe3,Qxe3,gxf5,Qf4,Qf6,Rf1,Re8,g4,Re2,gxf5,h6', 'Qg4+,Kf8,Qxe2', 'https://lichess.org/training/SmX40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SMXdK', 'Rapid', 'kziee', 2174, 'MaMadfghjkl', 2139, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,dxc6,O-O,Nf6,Re1,Be7,c3,O-O,d4,cxd4,cxd4,c5,e5,Ne8,dxc5,Qxd1,Rxd1,Bxc5,Nc3,b6,Nb5,Ba6,Nc3,Nc7,Na4,Be7,Be3,Rad8,Nc3,Bb4,Rxd8,Rxd8,Rd1,Rxd1+,Nxd1,Nd5,Bd2,Be2,Bxb4,Bxd1,Bd6,Bxf3,gxf3,f6,b4,fxe5,a3,Kf7,Bxe5,g6,b5,Nf6,Bb8,Nd7,Bd6,Kf6,Kg2,e5,Kg3,Ke6,Bb4,h6,h4,Kd5,f4,Nc5,fxe5,Kxe5,f4+,Ke4,Kg4,Nd3,Bd6,Nc5,Bb8,Nd7,Bd6,Kd5,Bb4,Kc4,h5,gxh5+,Kxh5,Kxb5,Kxh6,Ka4,f5,a5,Bd6,b5,Kg6,b4,axb4,axb4,f6', 'b3,Kf7,b2', 'https://lichess.org/training/SMXdK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SMz4u', 'Blitz', 'KenakoMtaka', 1527, 'Alsaraf', 1537, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Nc6,Bc4,Nf6,Bg5,Be7,Nf3,h6,Bf4,O-O,O-O,Re8,Qc2,Nb4,Qb3,Rf8,a3,Nc6,Rad1,a6,e5,Ng4,e6,b5,exf7+,Kh8,Bd5,Bb7,Ng5,Bxg5,Bxg5,hxg5,Rfe1,Nh6,Ne4,Na5,Qh3,Bxd5,Rxd5,Rxf7,Nxg5,Rf8,Rxd7,Qxg5,Ree7,Rg8,g3,Nc4,f4,Qg4', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/SMz4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sMzr2', 'Blitz', 'rvmihailis1973', 2285, 'NM wgraif', 2251, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,a6,Bg5,dxc4,e4,b5,e5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Nbd7,exf6,Bb7,d5,Nc5,dxe6,Nxe6,f4,Bh6,Qe2,Bxg5,fxg5,Qd4,Rd1,Qh4+,g3,Qxg5,Bg2,Bxg2,Qxg2,Qe3+,Qe2,Qxe2+,Kxe2,O-O,h4,Rfe8,Kf3,c5,g4,Nd4+,Kf4,Ne2+,Kf5,Nxc3,bxc3,Re3,g5,Rf3+,Kg4,Rxc3,h5,Rc2,g6,Rg2+,Kf5,Rf2+,Kg5,Rg2+,Kh6,c3,Rd7,Rf8,Re1,c2,gxf7+,Kh8,Rde7,Rf2,Re8', 'Rxf6+,Kg5,Rxf7', 'https://lichess.org/training/sMzr2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SMzVV', 'Blitz', 'CM Kingslayer061', 2039, 'Atxurbi', 2006, 'e4,c5,Nf3,Nc6,Bb5,d6,d4,cxd4,Qxd4,Bd7,Bxc6,Bxc6,O-O,e5,Qd3,Nf6,Nc3,Be7,Bg5,O-O,Bxf6,Bxf6,Rad1,Be7,Nd5,Bxd5,Qxd5,Qc7,c4,Rac8,b3,Kh8,g4,b6,Rd3,Qd7,h3,h5,Nh2', 'Rc5,Qxc5,bxc5', 'https://lichess.org/training/SMzVV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sN2zV', 'Rapid', 'Ocada', 1924, 'black_007', 2162, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Qe7,Qe2,Nd5,c4,Ba6,Qe4,Nf6,Qf5,d6,f4,dxe5,Qxe5,O-O-O,Qxe7,Bxe7,Be2,Bc5,a3,Rhe8,Nd2,Ng4,b4,Bxc4,Nxc4', 'Bf2+,Kf1,Rd1+,Bxd1,Re1#', 'https://lichess.org/training/sN2zV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SN3ML', 'Rapid', 'Underated_quarantine', 2071, 'kazungu2', 2036, 'e4,e6,d4,d5,Nc3,Nc6,Be3,Nf6,e5,Nd7,Nf3,h6,Bd3,Nb4,Ne2,c5,c3,Nxd3+,Qxd3,c4,Qd2,Be7,Ng3,b5,O-O,a5,Ne1,b4,f4,f5,exf6,Nxf6,Qc2,O-O,Nf3,Ng4,Bd2,Qe8,h3,Nf6,Ne5,Bd6,Rae1,Nh5,Nh1,Nf6,Ng6,Rf7,Ng3,Rb7,f5,Bxg3,Re3,Ne4,Rff3,Bd6,Rxe4,dxe4,Qxe4,Rba7,d5,e5,f6,Rf7,Qh4,Rxf6,Rxf6,gxf6,Qxh6,Bc5+,Kh1,Bb7', 'Qh8+,Kf7,Qh7#', 'https://lichess.org/training/SN3ML');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SN6Og', 'Blitz', 'IM ChessHobbits99', 2606, 'Actehualpa', 2464, 'e4,d5,Nc3,dxe4,Bc4,Nf6,d3,exd3,Nge2,Nc6,Bxd3,Nb4,O-O,Nxd3,cxd3,Bf5,d4,Qd7,Qb3,O-O-O,Qxf7', 'Be6,Qxe6,Qxe6', 'https://lichess.org/training/SN6Og');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sN6zm', 'Blitz', 'Mae97', 1779, 'DAPappas', 1759, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Be2,Bf5,O-O,e6,d4,Nbd7,Bg5,c6,Nh4,Bg6,Nxg6,hxg6,Ne4,Qc7,Nxf6+,Nxf6,g3,O-O-O,c3,Be7,a4,Ng4,Bxe7,Rxh2,Bxd8,Qxd8,Bxg4,Qh8,Bf3,Qh3,Re1,g5,Qe2,g4,Qf1,Qh5,Re5,f5,Bg2,g5,Rae1,f4,Rxe6,f3,Re8+,Kc7,R1e7+,Kb6,Qc4', 'Rxg2+,Kf1,Qh1#', 'https://lichess.org/training/sN6zm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('snaJe', 'Blitz', 'Soypeje', 2060, 'GM kmilooo', 2584, 'b3,e5,Bb2,Nc6,f4,exf4,Nc3,Nf6,Qc1,d5,Nf3,Bc5,h3,O-O,Ba3,Qe7,Bxc5,Qxc5,Na4,Qd6,Qb2,d4,c4,Bf5,Rg1,Rfe8,O-O-O,a6,c5,Qd5,d3,b5,cxb6,cxb6,Kb1,Qd8,Rc1,Rc8,Nh4,Be6,Nf3,h6,g3,fxg3,Bg2,Nh5,Bh1,Bxh3,Ne1,Ne5,Rxc8,Qxc8,Qxd4,b5,Nc5,Nd7,Ne4,Qc7,Nf3,Ndf6,Nfd2,Rd8,Nxf6+,Nxf6,Qh4,Rc8,Qxh3,Qc2+,Ka1,Re8,Qxg3,Nh5,Qg4,Qxd2,Be4,Qc3+,Kb1,Qd4', 'Bh7+,Kxh7,Qxd4', 'https://lichess.org/training/snaJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNApB', 'Rapid', 'starbax', 1864, 'francisco94', 1939, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Qf6,Bxd5+,Be6,Qxf6+,gxf6,Bxe6+,Kxe6,Nc3,Nd4,Kd1,Rg8,Rg1,Bc5,d3', 'Nf3,Rh1,Rxg2', 'https://lichess.org/training/SNApB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SnBD3', 'Rapid', 'adomakor', 1733, 'Rhysmc123', 1680, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Be6,Bxe6,fxe6,Qb3,Nf6,Qxe6+,Be7,Qb3,b6,d3,a5,Bg5,a4,Qe6,Qd7,Qxd7+,Nxd7,Nbd2,O-O,Bxe7,Nxe7,O-O-O,c6,Nc4,d5,exd5,cxd5,Nd6,Ra6,Rdf1,Nc8,Nb5,Ra5,Nc7,Ne7,Ne6,Rc8,h4,b5,a3,d4,Kd2,dxc3+,bxc3,Nd5,Rc1,h6,Rhe1,Kf7,Nxe5+,Nxe5,Rxe5,Ra6,Rxd5,Rxe6,Rxb5,Rce8,Rb7+,Kg8,c4,Re2+,Kc3,Rxf2,c5,Rxg2,Kb4', 'Rb2+,Kc4,Rxb7', 'https://lichess.org/training/SnBD3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('snBEz', 'Blitz', 'Alexander-W', 2058, 'poer', 1997, 'e4,d5,exd5,Qxd5,Nf3,Qa5,Nc3,Nf6,d4,c6,Bd2,Qc7,Bd3,Bg4,h3,Bh5,a3,e6,Ne4,Nbd7,c3,Be7,Nxf6+,Nxf6,O-O,O-O,Re1,Bd8,Qc2,Bxf3,gxf3,Qd6,Re5,Bc7,Bf4,Nd5,Bxh7+,Kh8,Rh5,Nxf4', 'Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/snBEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('snbPb', 'Rapid', 'FredericoNovaes', 1777, 'balthier12', 1776, 'e4,e5,Nf3,d6,Bc4,Nf6,d4,c6,dxe5,Ng4,exd6,Bxd6,e5,Qe7,O-O,Nxe5,Nxe5,Bxe5,Re1,Nd7,f4,Qc5+,Be3,Qxc4,fxe5,O-O,Nc3,Nxe5,Bd4,Bg4,Qd2,Rad8,Re4,c5', 'Bxe5,Rxd2,Rxc4', 'https://lichess.org/training/snbPb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNcf8', 'Rapid', 'Solituede', 1989, 'diomisero', 1998, 'd4,Nf6,Bf4,c5,e3,Qb6,Qc1,cxd4,Bd3,e5,Bxe5,Qa5+,c3,Qxe5,cxd4,Qa5+,Nc3,Bb4,Ne2,Bxc3+,Nxc3,Nd5,O-O,Nxc3,bxc3,d5,Qc2,h6,Rab1,O-O,Rb5,Qd8,c4,dxc4,Bxc4,Nc6,Rfb1,Qe7,Bd3,Rd8,a4,a6,Rb6,Rd7,Bh7+,Kh8,Bd3,Rc7,Qb2,Nd8,d5,Bd7,Rxh6+,Kg8,Bh7+,Kf8,Bd3,f6,Rh8+,Kf7,e4,Rac8,h3,Bxa4,Qe2,Qe5,Rf1,Rc1,g3,Rxf1+,Kxf1,Rc1+,Kg2,Ke7,Qd2,Rc8', 'Qb4+,Qd6,Qxa4', 'https://lichess.org/training/SNcf8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNcwn', 'Rapid', 'Nawab1', 2078, 'Saladin2', 2229, 'e4,c5,c3,e6,d4,d5,exd5,exd5,dxc5,Bxc5,Nf3,Nf6,Bd3,O-O,O-O,Nc6,Nbd2,Bg4,Nb3,Bd6,Be2,Ne4,Nfd4,Bd7,Be3,Re8,Bg4,Ne5,Bxd7,Qxd7,Nf3,Ng4,Bd4,Qf5,h3,Ngf6,Qc1,b6,Bxf6,Qxf6,Nbd4,Rac8,Qd1,h5,Nb5,Bb8,Qxd5,Rc5,Qb3,Rf5,Nbd4,Rc5,Rae1,g5,Qc2,Qg6,Nd2,Rce5,Nxe4,Rxe4,Rxe4,Qxe4,Qxe4,Rxe4,f3,Re8,Kf2,Kg7,Rd1,Kf6,Re1', 'Bg3+,Kxg3,Rxe1', 'https://lichess.org/training/SNcwn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SND2V', 'Blitz', 'Peter135', 2111, 'FrugoFruit90', 2180, 'd4,d5,Nf3,Nf6,Bf4,c6,c3,Bf5,e3,e6,Bd3,Bg6,Bxg6,hxg6,O-O,Nbd7,h3,Be7,Nbd2,Ne4,Nxe4,dxe4,Nd2,f5,Qb3,g5,Bg3,Kf7,Qxb7,Nf6,Qxc6,g4,hxg4,Nxg4,Nc4,Rc8,Qa4,Rxc4,Qxc4,Bd6,d5,Bxg3,dxe6+,Kg6,fxg3,Rh1+,Kxh1', 'Qh8+,Kg1,Qh2#', 'https://lichess.org/training/SND2V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sNDVi', 'Blitz', 'RemiAREIA', 1633, 'Karateka2007', 1652, 'd4,d5,Bf4,e6,e3,c5,Nf3,Nc6,c3,Nf6,Nbd2,Bd6,Bg3,O-O,Bd3,c4,Bc2,Bxg3,hxg3,Ne7,Ne5,Ng6,f4,h6,g4,Nxe5,dxe5,Nh7,g5,f5,gxh6,gxh6,Qh5,Qe7,Qxh6,Rf7,Nf3,Rg7,Ng5,Bd7,Nxh7,Rxh7,Qg6+,Rg7,Qh6,Rh7,Qxh7+,Qxh7,Rxh7,Kxh7,O-O-O,Rg8,Rh1+,Kg6,g4,Kf7,gxf5,exf5,Rh7+,Ke8,Rh5,Rg1+,Kd2,Rg2+,Kc1,Rg1+,Bd1', 'Ba4,b3,cxb3,axb3,Bxb3,Kb2,Bxd1', 'https://lichess.org/training/sNDVi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SnEx2', 'Blitz', 'david0409', 1885, 'Roman29', 1809, 'e4,e6,d4,b6,Nc3,Bb7,Nf3,Bb4,Bd2,Bxc3,Bxc3,Bxe4,Bd3,Bb7,O-O,Nf6,Re1,Qe7,Bd2,h6,Bf4,d6,c3,g5,Be3,Ng4,h3,Nf6,Kf1,g4,hxg4,Nxg4,Ke2,Nxe3,fxe3,Rg8,Rg1,Nc6,Kd2,O-O-O,Kc2,d5,Rc1,e5,dxe5,Nxe5,Nxe5,Qxe5,Qe2,Kb8,Rce1,Rg3,Kd2,c5,Qf2,Re8,Re2,f6,Rf1,Re6,Qf4,h5,Qxe5+,fxe5,Bf5,Rf6,Ref2,d4,exd4,exd4,cxd4,Rd6,Bh3,Rxd4+,Kc2,a5,Rf8+,Ka7,R8f7,Ka6,Rf8,Bd5,b3,Kb5,Bd7+,Kb4', 'a3+,Kxa3,Ra1+,Kb4,Ra4#', 'https://lichess.org/training/SnEx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('snfNW', 'Classical', 'GOLDENCELL', 2014, 'hevalrenas', 2014, 'e4,c5,Nf3,Nc6,Bb5,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bg5,h6,Bh4,g5,Nxc6,bxc6,e5,Bxc3+,bxc3,Nd5,c4,gxh4,Bxc6,Qa5+,Qd2,Qxd2+,Kxd2,dxc6,cxd5,cxd5,Rab1,Ba6,Rb4,Ke7,Rxh4,Rab8,Ra4,Rb6,f4,Ra8,g4,Bb5,Ra5,Bc4,f5,Rb2,a3,Bb3,Kc3,Rxc2+,Kxb3,Rg2,f6+,Kd7,Rc1', 'Rb8+,Kc3,Rc8+,Kd3,Rxc1', 'https://lichess.org/training/snfNW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sNHcC', 'Blitz', 'dnzcnkynk', 2170, 'FM Ecce89', 2501, 'e4,g6,d4,Bg7,Nc3,c6,Be3,d5,e5,f6,f4,Nh6,h3,Qb6,Rb1,fxe5,fxe5,Nf5,Bf2,Bh6,Nf3,O-O,Bd3,Ne3,Qe2', 'Nxg2+,Kf1,Nf4', 'https://lichess.org/training/sNHcC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNhk6', 'Blitz', 'Pinbim', 1740, 'ivdzh84', 1787, 'd4,d5,c4,e6,cxd5,Nf6,dxe6,Bxe6,Nf3,Nc6,e3,Bd6,Be2,Qd7,Nc3,O-O-O,d5,Nxd5,Nxd5,Bxd5,O-O,Be6,b3,Ne5,Bb2,f6,Nxe5,Bxe5,Qxd7+,Bxd7,Bxe5,fxe5,Rad1,Bc6,Bc4,Rd6,Rxd6,cxd6,f3,Kd7,e4,Rf8,Kf2,b5,Bd3,d5,Ke2,dxe4,Bxe4,Bxe4,fxe4,Rxf1,Kxf1,Kd6,Ke2', 'Kc5,Kd3,Kb4,Kc2,Ka3', 'https://lichess.org/training/SNhk6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SnIl2', 'Blitz', 'IM peterbl', 2719, 'HannHagen', 2177, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,O-O,h3,Nb8,d4,Nbd7,Nbd2,Bb7,Bc2,Re8,Nf1,Bf8,Ng3,g6,Bg5,h6,Bd2,exd4,cxd4,c5,dxc5,Nxc5,e5,dxe5,Nxe5,Qd5,Nf3,Rad8,Rxe8,Rxe8,Bc3,Nce4,Nxe4,Nxe4,Bxe4,Qxe4,a3,Bc5,Qd2,Kh7,Re1,Qc6,Qf4,Rxe1+,Nxe1,Qe6,Nf3,g5,Qe5,Bxf3', 'Qg7#', 'https://lichess.org/training/SnIl2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sNiQ4', 'Blitz', 'felipe-gomes', 1585, 'NM nakading', 2211, 'e4,c5,c3,Nf6,e5,Nd5,Bc4,e6,Nf3,Nc6,d4,cxd4,cxd4,Be7,a3,O-O,g3,d6,exd6,Bxd6,Be3,b6,h4,Nxe3,fxe3,Bxg3+,Ke2,Na5,Bd3,Bb7,Rh3,Bd6,Nc3,Rc8,h5,Nc4,Qc2,h6,Ne4,Bxe4,Bxe4,Nxe3,Qd3,Nd5,Bxd5,exd5,Rg1,Re8+,Kd2,Qf6,Ne5,Bxe5,dxe5,Qxe5,Re3,Qxe3+,Qxe3,Rxe3,Kxe3,Rc2,Rb1,Rh2,Kd4,Rxh5,Rc1,Rh4+,Kxd5,Rh2,b4,h5,Rc7,Kh7,Rxa7,Kg6,Kc6,Ra2,Kxb6,h4,b5,h3,Ra6,h2,Kc5+,f6,b6,h1=Q,Ra7,Qb7,Rxb7,Rxa3,Rc7,Rb3,b7,f5', 'Rc6+,Kg5,Rb6,Rxb6,Kxb6', 'https://lichess.org/training/sNiQ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNIuK', 'Rapid', 'mironov55', 2191, 'Borneot', 2177, 'd4,d6,Bf4,g6,Nf3,Bg7,e3,c5,c3,cxd4,exd4,Qb6,b3,Bg4,Bd3,Nc6,O-O,Nf6,h3,Bxf3,Qxf3,O-O,Nd2,e5,Bg5,Nd7,d5,Nd8,Ne4,f5,Be3,Qc7,Ng5,e4,Bxe4,fxe4,Qxe4,Qxc3,Ne6,Re8,Rac1,Qe5,Qc4,Nxe6,dxe6,Qxe6,Qc7,b6,Rfd1,d5,Rc6,Qf7,Qd6,d4,Bxd4,Bxd4,Qxd4,Nc5,Rf6,Qe7,Qd5+,Kh8,Rf7,Qe5', 'Rf8+,Rxf8,Qxe5+', 'https://lichess.org/training/SNIuK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SnIyh', 'Rapid', 'jache', 1981, 'yaambe2', 2003, 'e4,c5,Nf3,d6,c3,e5,d4,Nc6,dxe5,dxe5,Qxd8+,Kxd8,Bb5,f6,Bxc6,bxc6,c4,Ba6,b3,Bd6,Be3,Nh6,h3,Nf7,Nc3,Kc7,Na4,Nd8,Nxc5,Bxc5,Bxc5,Ne6,Be3,Rhd8,O-O,c5,Rfd1,Nd4,Nh4,Rab8,Nf5,Bb7,f3,Rd7,Bxd4,exd4,Rd3,Bc6,Rad1,a5,Kh2,Rf7,h4,g6,Ng3,a4,h5,axb3,axb3,Ra8,Ne2,gxh5,Nf4,h4,Kh3,Kd6,Kxh4,Rg7,g4,Ra2,R1d2,Ra1,Nh5', 'Rh1+,Kg3,Rxh5', 'https://lichess.org/training/SnIyh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('snjB2', 'Rapid', 'petrovito', 1719, 'fabrizio62', 1746, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,cxd6,Nc3,g6,b3,Bg7,Bb2,O-O,Nf3,Bg4,Be2,Bxf3,Bxf3,Nc6,d5,Bxc3+,Bxc3,Ne5,O-O,f6,Be4,Nbd7,f4,Nf7,Qg4,Kg7,f5,g5,h4,Nfe5,Qg3,Kh8,hxg5,Rg8,g6,Rg7,Kf2,Nf7,Rh1,Ng5,Qxg5,fxg5,Rxh7+,Kg8,Rxg7+,Kf8,Rh1,Nf6,Bxf6,exf6,Rf7+,Kg8,Ke2,Qe8,Kd3,Qe5,Rfh7,Qg3+,Kc2,Qf2+,Kc3,Qe3+,Kb4,a5+,Ka4,b5+,Kxb5', 'Qc5+,Ka4,Qb4#', 'https://lichess.org/training/snjB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Snjpe', 'Blitz', 'Korolenko', 2345, 'FM JOSOHA', 2405, 'e4,c5,c4,e5,Nc3,Nc6,d3,d6,g3,g6,Bg2,Bg7,Nge2,Nge7,Be3,O-O,Qd2,Nd4,O-O,Nxe2+,Qxe2,a6,a3,b5,cxb5,axb5,Nxb5,Ba6,Nc3,Rb8,Rab1,Rb3,Rfd1,Qb6,Bg5,f6,Be3,Rb8,Rd2', 'Rxc3,bxc3,Qxb1+', 'https://lichess.org/training/Snjpe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('snKeh', 'Blitz', 'astromildo', 1629, 'ahmadjohn96', 1659, 'e4,e5,Nc3,Bc5,Bc4,Nc6,Qg4,Qf6,Nd5,Qxf2+,Kd1,d6,Qxg7,Nd4,Nxc7+,Kd8,Nxa8,h5,Qxh8,Bg4+,Ne2', 'Bxe2+,Bxe2,Qxe2#', 'https://lichess.org/training/snKeh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNm1B', 'Blitz', 'spav', 1768, 'clivechitz', 1806, 'e4,e5,Nf3,d6,d4,Bg4,Nc3,exd4,Qxd4,Bxf3,gxf3,Nc6,Bb5,Qd7,Bxc6,Qxc6,Be3,Be7,Nd5,Bf6,Nxf6+,Nxf6,Rg1,Nd7,Rxg7,Ne5,Rg3,O-O-O,O-O-O,Rhg8,f4,Rxg3,fxg3,Nd7,Qxa7,Nb6,Bxb6,cxb6,e5,d5,Qa3,d4,Qd3,Qc5,c3,b5,Kb1,b4,Qf5+,Kb8,cxd4,Qc4,Qd3,Qd5,b3,Rc8,Rc1,Rd8,Rc4,Qh1+,Kb2,Qxh2+,Rc2,Qg1,Rc4,Qf2+,Rc2,Qg1,a3,bxa3+,Kxa3,Qh1,Qc3,Rd5,Qc7+,Ka8,Qc8+,Ka7,Rc4', 'Qa1+,Kb4,Qa5#', 'https://lichess.org/training/SNm1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sNmyV', 'Rapid', 'cmimo', 2045, 'TeteMontoliu', 1657, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nc6,Nf3,Nf6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,c3,O-O,Bd3,b6,O-O,Bb7,Rc1,Ne7,Ne5,Rfd8,Qh5,g6,Qe2,Nd5,Be4,Nf4,Qf3,Bxe4,Qxe4,Nd5,Rfd1,Ne7,Nd7,Qg5,h4,Qf5,Qb7,Nd5,Ne5,Nf4,Qxc7,Ne2+,Kf1,Nxc1,Rxc1,Qf4,Re1,Rf8,Qe7,Qd2,Ng4,Rae8', 'Nf6+,Kg7,Nxe8+,Rxe8,Qxe8', 'https://lichess.org/training/sNmyV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNNrf', 'Blitz', 'WhiteAlien', 1694, 'tard95', 1652, 'e4,c5,e5,Nc6,Nf3,Qc7,Qe2,g6,b3,Bg7,Bb2,f6,e6,dxe6,Na3,a6,Nc4,b5,Ne3,Bb7,O-O-O,Nh6,h3,O-O,g4,Qd6,h4,Nd4,Nxd4,cxd4,Ng2,e5,g5,Nf5,h5,Kf7,h6,Bh8,Rg1,fxg5,Ne1,Bf6,Nf3,Bxf3,Qxf3,Rfc8,Bd3,Nh4,Qg3,Qe6,Rde1,Rc5,Ba3,Rc7,Bb2,Rac8,Bxd4,Qd7,Bxe5,Bxe5,Qxe5,Qxd3,Qg7+,Ke8,Qg8+,Kd7,Rxe7+,Kxe7,Re1+,Kd6,Qe6+,Kc5,Re5+,Kb4,a3+,Ka5', 'b4+,Ka4,Qxa6#', 'https://lichess.org/training/SNNrf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('snowX', 'Rapid', 'mik53', 1921, 'Samurai67', 1838, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Nc3,c6,O-O,O-O,f4,d5,exd5,cxd5,Bb3,Nc6,Be3,a6,Qf3,Be6,Nxe6,fxe6,Rad1,d4,Bxe6+,Kh8,Bf5,Bc5,Na4,Ba7,c3,Re8,Bf2,Qa5,Bc2,Rad8,Kh1,b5,b4,Qc7,Nc5,Bxc5,bxc5,dxc3,Rxd8,Rxd8,Bh4,Nd4,Qxc3,Nxc2,Qxc2,Rc8,Rc1,Nd7,c6,Nb8,Bg3,Nxc6,Qf5,h6,Qe4,Qd7,f5,Re8', 'Qxc6,Qxc6,Rxc6', 'https://lichess.org/training/snowX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNpjY', 'Blitz', 'roflgrins', 1962, 'FM Leo_Pecnik', 2381, 'e4,c5,Nc3,e6,f4,d5,Bb5+,Bd7,exd5,exd5,Qe2+,Be7,Nxd5,Nc6,Nf3,a6,Bd3,Bg4,Be4,Nd4,Qd3,Bxf3,Bxf3,Nxf3+,Qxf3,Nf6,Ne3,O-O,O-O,b5,d3,Re8,Nf5,Bf8,Bd2,Qd5,Ne3,Qxf3,Rxf3,Rad8,Raf1,c4,Ba5,Rc8,dxc4,Bc5,Re1,Ng4,Bd2,Rcd8,Bc1,bxc4,h3,Nf6,Kh1,Kf8,c3,Rd3,Nc2', 'Rxe1+,Nxe1,Rd1', 'https://lichess.org/training/SNpjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sNqx8', 'Rapid', 'NourSalem', 1815, 'Bablu0', 1793, 'Nf3,Nf6,d4,g6,c4,Bg7,e3,e6,b3,c6,Bb2,d5,Nbd2,O-O,a4,a5,Be2,Na6,c5,b6,cxb6,Qxb6,Rc1,Bb7,Ne5,Nb4,Ba3,Rfc8,Nd3,Ba6,Nc5,Bxe2,Qxe2,Qd8,Nb7,Qc7,Nc5,h5,h4,Ng4,f3,Qg3+,Kf1,Nh2+,Kg1,Nxf3+,Qxf3,Qc7,g4,e5,gxh5,gxh5,Qxh5,exd4,exd4,Qg3+,Kf1,Qf4+,Nf3,Kf8,Qg5', 'Qxf3+,Kg1,Bxd4+', 'https://lichess.org/training/sNqx8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SnQxv', 'Rapid', 'malaja10', 1650, 'TaffsEcoli', 1700, 'Nf3,Nc6,c4,e5,Nc3,Nf6,e4,Bb4,d3,O-O,Be2,d6,h3,Nd4,O-O,Nxf3+,Bxf3,Bxc3,bxc3,Nd7,Be3,f5,exf5,Rxf5,Bd5+,Kh8,Be6,Rf8,Qh5,Nf6,Qf5,Nd5,Bxc8,Rxf5,Bxf5,Nxe3,fxe3,Qg5,Be4,c6,Rf3,Kg8,Raf1,Rd8,d4,exd4,cxd4,c5', 'Bd5+,Qxd5,cxd5', 'https://lichess.org/training/SnQxv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('snt4U', 'Rapid', 'ThomasWenger', 2038, 'erendsi06', 1932, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,Nf6,cxd4,Bb4+,Nc3,Nxe4,Qe2,Bxc3+,bxc3,d5,Bd3,O-O,Qc2,Bg4,Ne5,Nxe5,dxe5,Re8,Bxe4,dxe4,Qxe4,f5,Qf4,Qd5,O-O,Qxe5,Qb4,c5,Qxb7,Qxc3', 'Bb2,Qxb2,Qxb2', 'https://lichess.org/training/snt4U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('snt9V', 'Classical', 'djimletrap', 1709, 'theboss777', 1841, 'e4,c5,f4,Nc6,Nf3,g6,Bc4,Bg7,c3,e6,O-O,Nge7,d4,b6,f5,exf5,exf5,d5,Bb5,Bxf5,Re1,O-O,Bg5,f6,Be3,cxd4,Bxd4,Nxd4,Nxd4,Kh8,Nd2,a6,Bf1,Bd7,N2f3,Nc6,Kh1,Re8,Rxe8+,Qxe8,Bd3,Bg4,Qf1,Nxd4,Nxd4,Bd7,Qf3,Bc6,Qh3,f5,Nf3,Qe3,Bf1,a5,Qh4,d4,Ng5,h6,Nf7+,Kh7,cxd4,Qxd4,Ng5+,Kg8,Bc4+,Bd5', 'Qxd4,Bxd4,Bxd5+', 'https://lichess.org/training/snt9V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sNTLw', 'Rapid', 'oguest', 1667, 'anandkb', 1664, 'c4,e5,e3,d6,d4,exd4,Qxd4,Nf6,Nf3,Nc6,Qd1,Bg4,Nc3,Be7,h3,Bh5,g4,Bg6,Nh4,Qd7,Nxg6,hxg6,Bd2,Nxg4,Be2,Nf6,Qb3,O-O-O,Bf3,b6,Nb5,a6', 'Bxc6,Qxc6,Na7+,Kd7,Nxc6', 'https://lichess.org/training/sNTLw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sNukF', 'Blitz', 'Dr_Gabriel', 2117, 'DarkAngel2007', 2143, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d5,exd5,Qxd5,Nf3,e6,a3,Nf6,Nc3,Qd8,Bd3,Be7,Be3,O-O,O-O,h6,Qe2,b6,Rad1,Bb7,Bb1,a5,Rfe1,Ba6,Qd2,Rc8,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/sNukF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('snVwi', 'Blitz', 'sultaaan71', 1886, 'Kycca', 1872, 'e4,c6,f4,d5,exd5,cxd5,d4,Bf5,Nf3,e6,Bd3,Ne7,O-O,Bxd3,Qxd3,Nf5,c3,Bd6,Ne5,Nd7,Nd2,O-O,Ndf3,Rc8,Nxd7,Qxd7,Ne5,Qd8,Bd2,a6,g4,Nh4,Qh3,b5,Be1,Ng6,Nxg6,fxg6,Bd2,Rf7,g5,Qe7,Rae1,Re8,Rf2,a5,Rfe2,Qf8,Rxe6,Rxe6,Qxe6,Kh8,Qxd5,Bxf4,Bxf4,Rxf4,Qxb5', 'Rg4+,Kh1,Qf3#', 'https://lichess.org/training/snVwi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNW1I', 'Rapid', 'iliqn72', 1947, 'Perfectstorm', 2114, 'e4,c5,d4,cxd4,c3,g6,Nf3,Bg7,cxd4,d6,Nc3,Nf6,Bc4,O-O,h3,Nxe4,Bxf7+,Rxf7,Nxe4,d5,Neg5,Rf8,h4,Bg4,Qd3,Bf5,Qc3,Nc6,Be3,Rc8,Qd2,Na5,O-O,Nc4,Qe2,Nxe3,fxe3,h6,Nh3,Bxh3,gxh3,Qd7,Kh2,Qf5,Rac1', 'Rxc1,Rxc1,Qxf3,Qxf3,Rxf3', 'https://lichess.org/training/SNW1I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNwDx', 'Classical', 'khtabkhmal', 2083, 'ihabb', 1687, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,c4,a6,Nc3,g6,Be3,Bg7,Qd2,Nf6,f3,O-O,h4,Ne5,O-O-O,Qc7,b3,Bd7,Kb1,a5,Ndb5,Bxb5,Nxb5,Qc6,a4,b6,Be2,Ned7,g4,Nc5,Ka2,Rfd8,g5,Nfxe4,fxe4,Nxe4,Qd5,Qxd5,Rxd5,e6,Rdd1,d5,Bf3,Ng3,Rh3,Nf5,Bg4,d4,Bxf5,gxf5,Bg1,e5,h5,Rd7,Nc3,e4,Nd5,d3,Nxb6,Rda7,Nxa8,Rxa8,Be3,Kf8,Rf1,Rd8,Rhh1,d2,Rd1,Bc3,Rh2,Rd3,Bf4,e3,Kb1,Bb4,Kc2,Rc3+,Kb2,Rc1,Rxc1', 'Ba3+,Kxa3,dxc1=Q+', 'https://lichess.org/training/SNwDx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNwLg', 'Classical', 'Alzarot1', 1609, 'Djsamiyar7', 1611, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,Bg4,dxe5,dxe5,Bd2,Qf6,Be2,O-O-O,Nc3,Bb4,Qc1,a6,Bg5,Bxc3+,bxc3,Qg6,Bxd8,Nxd8,Nxe5,Qxe4,Nxg4,Qxg2,Rf1,Nf6,Ne3,Qxh2,Qa3,Ne4,Bg4+,Kb8,Rb1,Nxf2,Rxf2,Qg1+,Rf1,Qxe3+,Be2,Re8,Rf2,h5,Qxa6,Qxc3+,Kf1,Qxc2,Bd3', 'Qxb1+,Bxb1,bxa6', 'https://lichess.org/training/SNwLg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sNWy6', 'Blitz', 'FM TormentaNegra', 2592, 'Commodore123', 2534, 'd4,f5,Nf3,Nf6,Bf4,g6,e3,Bg7,Be2,O-O,h3,c5,c3,Ne4,O-O,d5,Nbd2,Nc6,Bh2,e6,a4,b6,Qb3,c4,Qc2,Na5,b3,Nxd2,Nxd2,cxb3,Nxb3,Nc4,Nd2,Ba6,Nxc4,Bxc4,Bxc4,dxc4,e4,f4,e5,Qd5,Rfe1,g5,Qe4,Qxe4,Rxe4,Rfd8,Kf1,Rd5,Ree1,Ra5,Ke2,Rb8,Reb1,Bf8,Kf3,Kf7,Ke4,h6,g3,fxg3,Bxg3,Be7,f4,gxf4,Bxf4,h5,Rb5,Ra6,Rbb1,Rg8,Kf3,Bg5,Rg1,Bxf4,Rxg8,Kxg8,Kxf4,Ra5,Kg5,Kf7,Rf1+,Ke7,Kg6,Rxa4,Rf7+,Ke8,Rc7,b5,Kf6,Ra6,Rb7,Rb6,Rxa7,Kd8,Ra1,b4,cxb4,c3,Rc1,Rc6,b5,Rc4,Kxe6,c2,d5,Rc3,d6,Kc8,Kd5,Kd7,Kd4,Rc8,b6,Ke6,b7,Rb8,Rxc2,Rxb7,Rc5,Rb4+,Kc3,Rh4,Kd3,Rxh3+,Ke4,Rh4+,Kf3,Rh1,Kf4,Rf1+,Ke4,Re1+,Kd4,h4,Rc8,Rd1+,Kc5', 'Rc1+,Kd4,Rxc8', 'https://lichess.org/training/sNWy6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sNxS7', 'Blitz', 'dutry', 1744, 'gionabaldo', 1822, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be2,a6,Be3,e6,Qd2,Qc7,O-O-O,b5,f3,b4,Na4,Bd7,Nxc6,Qxc6,b3,Rb8,g4,Be7,h4,Qc7,Nb2,Bb5,h5,O-O,g5,Nd7,g6,hxg6,h6,Rfc8,hxg7,Bf6,Bxb5,axb5,Bb6,Nxb6', 'Rh8+,Kxg7,Qh6#', 'https://lichess.org/training/sNxS7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Snyb8', 'Rapid', 'g_gar21', 1683, 'i-pds', 1741, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Nc6,Nf3,Qc7,d3,Bf5,O-O,Nf6,Re1,e6,Bg5,Be7,Ne5,O-O,Nxc6,bxc6,Ba4,Rac8,Nc3,h6,Bh4,Bh7,a3,Ne8,Bxe7,Qxe7,Qg4,Nf6,Qg3,Qb7,Qd6,Qxb2,Ne2,c5', 'Reb1,Qxa1,Rxa1', 'https://lichess.org/training/Snyb8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sNyYA', 'Rapid', 'adeldeab', 1838, 'treborsky28', 1717, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Be2,Nf6,O-O,Bd6,Nc3,c6,Bg5,O-O,Ne5,Bxe2,Qxe2,Nbd7,Nxd7,Qxd7,Bxf6,Bxh2+,Kxh2,Rfe8,Be5,f6,Qh5,fxe5,dxe5,Re6,Qg4', 'Rh6+,Kg3,Rg6,Qxg6,hxg6', 'https://lichess.org/training/sNyYA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sNZ21', 'Rapid', 'Washburn', 2383, 'jcsampera', 2514, 'd4,d6,e4,Nf6,Nc3,Nc6,Nge2,e5,d5,Ne7,h3,c6,dxc6,bxc6,g4,d5,exd5,cxd5,Bg2,Bb7,O-O,Ng6,Bg5,Be7,Bxf6,Bxf6,Nxd5,Rb8,c4,Bxd5,Bxd5,h5,Qa4+,Kf8,Qxa7,Ne7,g5,Bxg5,Rad1,Qc8,f4,exf4,Nxf4,Bf6,b3,Rh6,Rf3,Nxd5,Rxd5,Ra8,Qc5+', 'Qxc5+,Rxc5,Bd4+,Kf1,Bxc5', 'https://lichess.org/training/sNZ21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SNzhp', 'Blitz', 'seros_zandi66', 1773, 'lastkura', 2223, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Be2,Bg4,Be3,Bd6,O-O,Nge7,Nc3,Qd7,a3,O-O-O,Nb5,Rde8,Nxd6+,Qxd6,b4,Nf5,Qd2,Nxe3,fxe3,h5,b5,Nd8,Ne5,Bxe2,Qxe2,f6,Ng6,Rh6,Nh4,Qe6,Qf3,Qxe3+', 'Qxe3,Rxe3,Nf5,Re6,Nxh6', 'https://lichess.org/training/SNzhp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SO13q', 'Blitz', 'slyvasto', 1568, 'royal10', 1553, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,Nf6,Bg5,Bxc5,Bb5+,Bd7,Bxd7+,Nbxd7,Nf3,O-O,O-O,Ne4,Bxd8,Raxd8,Qxd5,Bxf2+,Rxf2,Nxf2,Kxf2,Nf6,Qxb7,Ng4+,Kg3,Ne3,Qxa7,Nxc2,Rf1,Ne3,Rf2,Nf5+,Kf4,Nh6,h3,f6,Nd4,g5+,Kg3,Rfe8,Rxf6,Re3+,Kh2,g4,Rxh6', 'g3+,Kg1,Re1#', 'https://lichess.org/training/SO13q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SO3K6', 'Blitz', 'NM daorange', 2252, 'Destroykill88', 2261, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,c3,b5,Bc2,O-O,d4,d6,h3,Re8,Re1,Bb7,Nbd2,Nb8,Nf1,Nbd7,Ng3,Bf8,Nh2,g6,f4,exf4,Bxf4,Bg7,Qd3,Qb8,Nf3,Qa7,Re2,Ne5,Nxe5,dxe5,Be3,exd4,Bxd4,c5,Bf2,Rad8,Qf3,Nd7,Rae1,Qa8,Qe3,Qc8,Qc1,Qc7,Nf1,Be5,Nd2,c4,Nf3,Bg7,Bd4,Ne5,Nxe5,Bxe5,Rd1,Qe7,Qe3,Qh4,Bxe5,Rxe5,Rxd8+,Qxd8,Qd4,Qe7,a4,Qc5,Qxc5,Rxc5,axb5,Rxb5,Bb1,Re5,Kf2,Kf8,Ke3,f6,Kd4,a5,Kxc4', 'Ba6+,Kd4,Bxe2', 'https://lichess.org/training/SO3K6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SO4nN', 'Rapid', 'lilshiro', 1906, 'wesley2008', 2006, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ne5,h5,Bc4,Nh6,d3,d6,Bxf4,dxe5,Bxe5,f6,Bc3,c6,Rf1,Bg7,Nd2,b5,Bb3,a5,a4,b4,Bd4,Nd7,Nc4,c5,Nd6+,Ke7,Nxc8+,Rxc8,Be3,Qc7,Qe2,Qg3+,Kd2,Qxh4,d4,Rhd8,d5,Ne5,Qa6,Nhf7,Qe6+,Kf8,Rf2,g3,Rf4,Qh2,Raf1,Qxg2+,Kc1,c4,Rxf6,Bxf6,Qxf6,cxb3', 'Bh6+,Kg8,Qg7#', 'https://lichess.org/training/SO4nN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('so6uy', 'Rapid', 'slava_', 1725, 'oicnoel', 1659, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Nf6,Nf3,d6,O-O,Be7,Ng5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,Qb3+,Kf8,Rd1,Nc6,e5,Ne8,Qg3,Qd7,exd6,cxd6,Nc3,Qg4,Qd3,Bf5,Qb5,Qb4,Qxf5+,Nf6,Rab1,Nd4,Qh3,Re8,a3,Qc5,Na4,Ne2+,Kf1,Qc4,Qd3,Qxa4,Qxe2,Bd8,Qd2,Bc7,Bxf6,gxf6,Rxb7', 'Qa6+,Qd3,Qxb7', 'https://lichess.org/training/so6uy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('so7vX', 'Rapid', 'Crest88', 1961, 'australiankangaroo', 1877, 'c4,e5,g3,Nf6,Bg2,Nc6,Nc3,Bb4,d3,d5,Bd2,Bxc3,Bxc3,dxc4,dxc4,Be6,Bxc6+,bxc6,Qa4,Bd7,Bxe5,c5,Qa5,Bc6,Nf3,Bxf3,exf3,Qe7,Qxc7,Nd7,O-O,Nxe5,Qxe7+,Kxe7,Rfe1,Kf6,Kg2,Nxc4,b3,Nd6,Rad1,Rad8,Rd5,Nb7,Rh5,g6,Rh4,Rhe8,Rc1,h5,g4,Kg5,Kg3,Rd4,Rc2,hxg4,fxg4,Ree4,f3,Rf4,Rh7,Rd3,Rf2,Nd6', 'h4+,Kf6,Kxf4', 'https://lichess.org/training/so7vX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SO90i', 'Rapid', 'CarryOut', 1977, 'khaled_sharkawy', 1997, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nc3,e5,d3,Bc5,Be3,Nd4,Nf3,O-O,Be2,Ng4,Bxd4,exd4,Ne4,Bb4+,Ned2,Re8,O-O,Qc7,h3,Ne5,Nxd4,Bc5,N2b3,Bd6,Nb5,Qe7,Nxd6,Qxd6,d4,Ng6,c5,Qf4,Bd3,Nh4,Qd2,Qf6,f4,a5,a4,Be6,Bc2,Rad8,Rad1,Bc4,Rf2,Nf5,Nxa5,Rxd4,Qc3,Rxd1+,Bxd1,Qxc3,bxc3,Re1+,Kh2,Bd5,Bg4,Ne3,Re2', 'Nxg4+,hxg4,Rxe2', 'https://lichess.org/training/SO90i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('so9dY', 'Rapid', 'Trays08', 2058, 'boby37', 2078, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,c6,e3,Be7,Bd3,O-O,Qc2,h6,Bf4,Bd6,Nge2,Qe7,Bg3,Nbd7,O-O,b6,Rfe1,Bb7,Rad1,c5,dxc5,bxc5,Bf5,Nb6,Nb5,Bxg3,Nxg3,Rfd8,b3,a6,Nc3,d4,exd4,Qd6,dxc5,Qxc5,Nce4,Qe7,Nxf6+,Qxf6,Be4,Rac8,Qb1,Nd5,Bxd5,Bxd5,Qf5,Qc6,f3,Be6,Qe4,Qc5+,Kh1,Qa3,Qb1,a5,Ne4,a4,Nd6', 'Rxd6,Rxd6,Qxd6', 'https://lichess.org/training/so9dY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sOb50', 'Blitz', 'FHJ123', 1788, 'CM Sergey_Didenko', 2207, 'd4,e5,dxe5,Nc6,f4,Qe7,Nf3,Qb4+,Qd2,Qb6,Nc3,Bc5,e3,Nge7,Bd3,O-O,O-O,d6,exd6,Bxd6,Kh1,Bg4,Be2,Nf5,e4,Bxf3,Bxf3,Nfd4,Qf2,Bc5,Na4,Qb5,Nxc5,Qxc5,c3,Ne6,Qxc5,Nxc5,Be3,Nd3,Rab1,Rad8,Rfd1,f5,e5,g5,g3,gxf4,Bxf4,Nxf4,gxf4,Kf7,Bh5+,Ke7,Bf3,Na5,Rd4,c5,Rd5,Nc4,b3', 'Nd2,Rxd2,Rxd2', 'https://lichess.org/training/sOb50');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SObyd', 'Classical', 'JohnIRoa', 1769, 'JeffreyMichaels', 1763, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bb5,Nd4,Bc4,Nf6,Nxe5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,Nd5,c6,Nxf6,Qxf6,O-O,d6,c3,Ne6,d4,Bb6,e5,dxe5,dxe5,Qg6,Qf3+,Kg8,Be3,Bc7,Rad1,Ng5,Qf4', 'Nh3+,Kh1,Nxf4', 'https://lichess.org/training/SObyd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('soCtZ', 'Rapid', 'nourine31', 2085, 'cuartaculto', 2137, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nbd7,Bd3,b5,Rhe1,Bb7,Qf2,h6,Bxf6,Nxf6,e5,dxe5,Rxe5,O-O,h3,Rad8,g4,Qb6,g5,hxg5,fxg5,Nd7,Qh4,g6,Rxe6,fxe6', 'Bxg6,Bxg5+,Qxg5', 'https://lichess.org/training/soCtZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SODhR', 'Blitz', 'Ajenlawsviloztk', 1711, 'HugoOrellana', 2082, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,Bg5,e6,e3,Be7,cxd5,cxd5,Bb5+,Nbd7,Bxd7+,Nxd7,Bxe7,Qxe7,O-O,O-O,Re1,a6,Qb3,b5,a4,b4,Ne2,a5,Rac1,Nb6,Ne5,Rfc8,Ng3,Bg6,h3,f6,Nxg6,hxg6,e4,Rxc1,Rxc1,Qd7,exd5,exd5,Qd3,Nxa4,b3,Nc3,Qxg6,Re8,Nf5,Ne2+,Kh2,Nxc1,Nh6+,Kh8,Nf7+,Kg8,Nh6+,Kf8,Nf5,Nxb3,Qh7,Qc7+,g3,Re4', 'Qh8+,Kf7,Qxg7+,Ke6,Qxc7', 'https://lichess.org/training/SODhR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sOeOk', 'Blitz', 'Ghaem_1366', 2218, 'Zl-Ibrahimovic', 2279, 'e4,e5,Nf3,Nc6,d4,exd4,c3,d6,cxd4,Be7,h3,Nf6,Nc3,O-O,Bd3,Nb4,Bb1,c5,a3,Nc6,O-O,a6,Bf4,cxd4,Nxd4,Ne5,Qc2,Qb6,Nde2,Be6,Re1,Bb3,Qc1,Rac8,Be3,Qa5,Nd4,Bc4,Nf5,Rfe8,Nxe7+,Rxe7,Bg5,Re6,f4,Nd3,Bxd3,Bxd3,f5,Re5,Bxf6,gxf6,Qd2,Qb6+,Kh1,Bc4,b4,Rce8,Qh6,d5,Na4,Qf2,Nc5,dxe4,Nd7,Rxf5,Rac1,Bd5,Rcd1,e3,Rg1,e2,Rde1,Qxe1,Rxe1,Rf1+,Kh2,Rxe1', 'Nxf6+,Kh8,Qxh7#', 'https://lichess.org/training/sOeOk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sOEXP', 'Blitz', 'FM MagzyPotato', 2415, 'Fillefranz', 2255, 'd4,d5,c4,c6,Nf3,e6,e3,f5,Bd3,Nf6,O-O,Bd6,b3,Nbd7,Ba3,Qe7,Qc1,O-O,Bxd6,Qxd6,Nc3,Kh8,a4,h6,Qa3,Qxa3,Rxa3,g5,h3,Ne4,Bxe4,dxe4,Nd2,e5,c5,exd4,exd4,Nf6,Nc4,Be6,Nd6,Rab8,f3,e3,f4,Bd5,fxg5,hxg5,Rxf5,g4,Nxd5,Nxd5,Rh5+,Kg7,Rg5+,Kh6,Rxg4', 'e2,Re4,Rf1+', 'https://lichess.org/training/sOEXP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SOEY8', 'Rapid', 'cresporod', 1972, 'neuguen', 1693, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,h3,Nc6,d3,a6,O-O,Be7,Nh2,Nd4,Be3,b5,Bb3,Nxb3,axb3,b4,Ne2,d5,exd5,Qxd5,Ng3,Bb7,f3,O-O,Ne4,Nh5,Qe1,f5,Nd2,f4,Bf2,Bc5,Bxc5,Qxc5+,Qf2,Qxc2,Rac1,Qxd3,Rxc7,Rfd8,Nc4,Qd4,Qxd4,Rxd4,Rxb7,Ng3,Re1,Rad8,Ng4,Rd1,Rxd1', 'Rxd1+,Kf2,Rf1#', 'https://lichess.org/training/SOEY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SOFqV', 'Blitz', 'rjfisch', 1547, 'Death_Ed', 1528, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,d6,d4,Nf6,Nc3,Bg4,Bxf4,Be7,h3,Bh5,Qd3,O-O,g4,Bg6,O-O-O,Re8,Rde1,h6,Nh4,Bh7,Nf5,Bxf5,gxf5,Nb4,Bxf7+,Kxf7,Qc4+,d5,exd5,Nbxd5,Re6,c6,Rhe1,Rc8,Be5,b5,Qb3,a5,Bxf6,gxf6,Nxd5,Qxd5,Qg3,Qxf5,Kb1,Qg5,Qf3,Rcd8,Rxc6,Rxd4,Rce6,Rd5,Qc3,Rc5,Qd3,Rd5,Qc3,Rc5,Qf3,Rf5,Qb3,a4', 'Rxe7+,Kg6,Qf7#', 'https://lichess.org/training/SOFqV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sOHOk', 'Rapid', 'bchase001', 1695, 'Magma-X', 1659, 'd4,e5,Nf3,exd4,Bf4,Qf6,Bxc7,Bb4+,c3', 'dxc3,Nxc3,Bxc3+,bxc3,Qxc3+,Nd2,Qxc7', 'https://lichess.org/training/sOHOk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SohuX', 'Rapid', 'waqa', 1866, 'rahmaninov', 1649, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Bc4,Qb6,Nxc6,Qxc6,Bd4,Qxe4+,Be3,Qxc4,Nd2,Qc6,c3,Qxg2,Rf1,Qxh2,Qf3,Qc7,Bf4,e5,Be3,Ne7,O-O-O,O-O,Rh1,d6,Qg2,Bf5,Qh2,h6,Bxh6,Bxh6,Qxh6,f6', 'Qh7#', 'https://lichess.org/training/SohuX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sOHV2', 'Rapid', 'maelic', 2127, 'shiningarmor', 2119, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,Nbd7,Bd3,Be7,Nbd2,O-O,c4,c6,O-O,Nh5,Bxh7+', 'Kxh7,Ng5+,Bxg5,Qxh5+,Bh6', 'https://lichess.org/training/sOHV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SoIB2', 'Rapid', 'poorplayer2020', 1631, 'lan64', 1619, 'd4,d5,c4,Nf6,Nc3,Bf5,Bf4,e6,a3,c5,e3,cxd4,exd4,Nc6,Nf3,Bd6,Ne5,O-O,cxd5,Nxe5,dxe5,Nxd5,Nxd5,exd5,exd6,Re8+,Be2,Qa5+,Qd2,Qb5,Kf1', 'Rxe2,Qxe2,Bd3,Qxd3,Qxd3+', 'https://lichess.org/training/SoIB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sOila', 'Rapid', 'Niut', 1657, 'Los91', 1632, 'e4,c5,Bc4,e6,d3,Nc6,Nf3,d5,exd5,exd5,Bb5,Nf6,Bxc6+,bxc6,O-O,Be7,Re1,O-O,Bg5,Re8,Nbd2,Qb6,b3,Bg4,h3,Bf5,Nh4,Be6,c4,dxc4,dxc4,Qc7,Qc2,Rad8,Rad1,Nh5,Bxe7,Qxe7,Nhf3,Rd7,Qc3,Red8,Ne5,Rd6,Qe3,Qf6,Nef3,Qg6,Nh4,Qf6', 'Ne4,Rxd1,Nxf6+', 'https://lichess.org/training/sOila');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sOIMI', 'Rapid', 'PavelFedorovich', 1755, 'ahmedkhalied', 1768, 'e4,e6,d4,c5,d5,d6,c4,Nf6,Bd3,g6,h3,Bg7,Nc3,a6,a3,Bd7,Bg5,Qb6,Bxf6,Bxf6,Qd2,e5,Nge2,Qc7,f4,b5,b3,b4,axb4,cxb4,Na4,exf4,Qxf4,Bxa1,O-O,Be5,Qxf7+,Kd8,Nf4,Bxa4', 'Ne6+,Kc8,Qxc7#', 'https://lichess.org/training/sOIMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('soism', 'Blitz', 'Mihail_D', 1658, 'juegasiempre', 1594, 'd4,d5,c4,e6,cxd5,exd5,e4,c6,exd5,cxd5,Nc3,Nf6,a3,Be7,Bb5+,Bd7,Bxd7+,Nbxd7,Nf3,O-O,O-O,Re8,h3,a6,Re1,Rc8,Ne5,Nxe5,dxe5,Ne4,Nxd5,Nxf2,Kxf2,Bc5+,Kf1,Bb6,Qf3,Rc5,e6,Qxd5', 'Qxf7+,Kh8,Qxe8#', 'https://lichess.org/training/soism');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sOJGi', 'Rapid', 'David994', 1721, 'yosf_km', 1714, 'd4,c6,c4,e6,e4,Nf6,Nc3,Be7,Bd3,Na6,a3,O-O,Qc2,g6,Bh6,Re8,h4,Bf8,Bxf8,Rxf8,e5,Ne8,h5,Qg5,hxg6,fxg6,Nf3,Qxg2,O-O-O,Qxf3', 'Bxg6,hxg6,Qxg6+', 'https://lichess.org/training/sOJGi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('soJK6', 'Blitz', 'shekip', 1862, 'Typograf', 1861, 'd4,Nf6,e3,e6,Nf3,d5,Be2,c5,O-O,Nc6,a3,cxd4,exd4,g6,b3,Bg7,Bb2,O-O,Nbd2,a5,Rc1,b6,c4,dxc4,Nxc4,Ba6,Ncd2,Qd6,Bxa6,Rxa6,Qe2,Raa8,Qb5,Rfc8,Rfd1,Ng4,h3,Nxd4,Rxc8+,Rxc8,Ne4,Nxf3+,gxf3,Qxd1+,Kg2,Bxb2,hxg4,Qd4,Qa6,Rc2,Qb7,f5,Qa8+,Kg7,Qb7+,Kh6', 'g5+,Kh5,Qxh7#', 'https://lichess.org/training/soJK6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('soJkT', 'Classical', 'Optemm', 1637, 'Riccc', 1686, 'd4,Nf6,Bg5,e6,e4,h6,Bh4,g5,e5,gxh4,exf6,Qxf6,Nf3,Nc6,c3,d6,Be2,b6,O-O,Bb7,Bb5,O-O-O,Nbd2,h3,g3,Be7,Qa4,Kb8,Bxc6,d5,Bxb7,Kxb7,Rfe1,Rhg8,Ne5,Rd6,Ndf3,h5,Kh1,h4,Nxh4,Qxf2,Rg1,Bxh4,gxh4,Rg2,Ng4,Qf3,Qd1,Rxg1+,Kxg1', 'Qg2#', 'https://lichess.org/training/soJkT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SoleW', 'Rapid', 'omar358', 1921, 'birdautomatic', 1922, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,e5,Bc4,h6,O-O,Bc5,b4,Bb6,b5,Na5,Nxe5,Nxc4,Nxc4,Bc5,cxd4,Be7,Nc3,d5,Nxd5,Nf6,Nxe7,Qxe7,e5,Nd5,Nd6+,Kf8,Ba3,Kg8,Qf3,Be6,Nf5,Qg5,h4', 'Qxf5,Qxf5,Bxf5', 'https://lichess.org/training/SoleW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sonis', 'Classical', 'spidermonk13', 1763, 'YinYangTao', 1826, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,g6,Be2,Bg7,Be3,Nc6,Qd2,Bd7,f3,O-O,O-O-O,a6,g4,b5,h4,b4,Nd5,Qa5,Nxf6+,Bxf6,Kb1,Nxd4,Bxd4,Be6,b3,Qa3,f4,a5,f5,Bxb3,cxb3,a4,Bxf6,axb3,Bc4,bxa2+,Bxa2,exf6,Qb2,Qe3,Rde1', 'Qd3+,Qc2,Qxc2+,Kxc2,Rxa2+', 'https://lichess.org/training/sonis');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sONpm', 'Rapid', 'Shampanjasosialisti', 1871, 'Chloe1', 1808, 'e4,e6,d4,d5,Nc3,Bb4,Bd2,Bxc3,Bxc3,dxe4,Bc4,Nf6,Qe2,O-O,f3,Nc6,O-O-O,a5,a4,Nb4,fxe4,Bd7,Bb3,c6,g4,b5,g5,Ne8,h4,Nc7,Nf3,bxa4,Bxa4,Rb8,Kb1,Qc8,h5,c5,Bxd7,Qxd7,g6,Qa4,Bxb4,Qxb4,c3,Qxc3,Rc1,Qb4,gxh7+,Kh8,h6,g6,dxc5,Nb5,Qd2,Qxe4+,Ka1,Qxf3,Qg5,Qf5,Qe7,Nd4,Rhf1,Nb3+,Ka2,Qd5', 'Qf6+,Kxh7,Qg7#', 'https://lichess.org/training/sONpm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SONxS', 'Rapid', 'Genja600', 1808, 'miriani', 1615, 'e4,e6,e5,Qh4,Nf3,Qe4+,Be2,b6,d3,Qd5,Nc3,Qc5,Be3,Qa5,Bd2,Qc5,Ne4,Qb5,b3,Qc6,O-O,d5,exd6,Bxd6,Nxd6+,Qxd6,Nh4,Qd4,g3,Bb7,Be3,Qd5', 'Bf3,Qxf3,Nxf3', 'https://lichess.org/training/SONxS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SOPP4', 'Blitz', 'nurkholil', 1989, 'roysayan', 2065, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,g6,d3,Bg7,Ne2,O-O,c3,Bg4,Ng3,Nc6,h3,Bxf3,Qxf3,Ne5,Qe2,Nxc4,dxc4,Qb6,O-O,Nd7,Bf4,Rab8,h4,h5,Qe3,Nf6,f3,Nd7,Bh6,Qxb2,Bxg7,Kxg7,Rab1,Qxa2,Qg5,Nf6,f4,Qxc4,e5,dxe5,fxe5,Ng4,Nxh5+,Kh7,Rf4,Qd3,Rbf1,Qe3+,Kh1,gxh5,Rxf7+,Rxf7', 'Rxf7+,Kh8,Qg7#', 'https://lichess.org/training/SOPP4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SoqQW', 'Rapid', 'khyrat', 1689, 'jonmurdoch', 1660, 'd4,Nf6,c4,d5,e3,Nc6,Nc3,a6,Nf3,Bg4,h3,Bh5,Be2,e6,a3,Bd6,Qb3,dxc4,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/SoqQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SoQvm', 'Rapid', 'marc4u', 1816, 'bodc', 1640, 'd4,d5,Bf4,Bg4,h3,Bh5,Nd2,Nc6,c3,e6,Qb3,b6,e3,a6,Ngf3,h6,Bd3,g5,Be5,Nxe5,Nxe5,Qd6,g4,f6,gxh5,fxe5,Bg6+,Kd7,dxe5,Qxe5,Nf3,Qf6,Nd4,Ne7,Qa4+,b5,Nxb5,c6,Nd4,Bg7,e4,e5,Nf5,Nxg6,hxg6,dxe4,O-O-O+,Kc7,Qxe4,Rhd8,Nxg7,Qxg7,h4,gxh4,Rxd8,Rxd8,Rxh4,Rd6,Rg4,h5,Rg5,Qf6,Qg2,Qf4+,Kc2,Qa4+,b3,Qxa2+,Kc1,Qd2+,Kb1,Qd1+,Kb2,Rd2+,Ka3,Qa1+,Kb4,Rd5,Qxd5,cxd5,g7,a5+,Kb5,Qf1+,Ka4,Qa1+,Kb5,Qxc3,g8=Q', 'Qb4+,Ka6,Qb6#', 'https://lichess.org/training/SoQvm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SoSjp', 'Rapid', 'malijeva', 1791, 'pilaga', 1831, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Nbd7,Bc4,Ne5,Bb3,Be7,f4,Ng6,O-O,O-O,Qf3,c6,f5,Ne5,Qg3,Kh8,Nce2,Nxe4,Qh3,Ng5,Qh5,Bf6,Rf4,c5,Nf3,Nexf3+,gxf3,Qe7,Ng3,Qe1+,Nf1,Bd4+,Rxd4,Nxf3+,Qxf3,cxd4,Qh5,f6,Bd5,Qe5,Qf3,Bxf5,Bf4,Qe7,Ng3,Bg6,Qf2,Rab8,Re1,Qc7,Qxd4,Qxc2,Bxd6,Rbd8,Bxf8,Rxf8,Qc3,Qa4,Bb3,Qf4,Rf1,Qg5,Qf3,Qc5+,Qf2,Qg5,Bc2,Bxc2,Qxc2,Qd5,Qg2,Qd4+,Qf2,Qd5,Nf5,h6,Qg2,Rg8,Ne7', 'Qc5+,Qf2,Qxe7', 'https://lichess.org/training/SoSjp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SotdM', 'Rapid', 'FlowSpirit', 1654, 'morpi', 1632, 'e4,e6,d4,d5,exd5,Qxd5,c4,Qd8,Nc3,Nf6,Nf3,b6,d5,Bb4,Bg5,O-O,dxe6,Qxd1+,Rxd1,Bxc3+,bxc3,Bxe6,Nd4,Ne4,Nxe6,fxe6,Be3,Nxc3,Rd3,Nxa2,Bd2,a5', 'Ra3,Nb4,Bxb4', 'https://lichess.org/training/SotdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sotzq', 'Bullet', 'gobbojr', 1918, 'Katingan007', 1931, 'c4,c6,g3,d5,Bg2,Nf6,Nf3,e6,O-O,Nbd7,d4,Bd6,Nc3,O-O,Nd2,dxc4,Nxc4,Be7,e4,h6,e5,Nd5,Ne4,N7b6,Ned6,Bxd6,Nxd6,f5,Qh5,f4,Qg6,Ne7,Qg4,Nbd5,Bxf4,Nxf4,gxf4,Nf5,Nxf5,Rxf5,Rad1,Qf8,Be4,Rxf4,Qg6,Bd7,Qh7+,Kf7,Bg6+,Ke7,Bc2', 'Rg4+,Kh1,Qf3#', 'https://lichess.org/training/Sotzq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Soxdb', 'Blitz', 'Arhangel89', 2408, 'FM Din-don-dan', 2408, 'e4,c5,Nc3,e6,Nf3,Nc6,Bb5,Nge7,a3,a6,Ba4,d6,d4,cxd4,Nxd4,g6,f4,Bg7,Be3,O-O,O-O,Qb6,Nce2,Qxb2,Bb3,Nxd4,Nxd4,Qc3,Rf3,d5,e5,Qc7,Qe1,Bd7,Rh3,Rac8', 'Qh4,h5,Qxe7', 'https://lichess.org/training/Soxdb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('soZ1i', 'Rapid', 'satyamtripathiSG', 1642, 'Coa345', 1629, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,O-O,Nf6,Nc3,a6,Be3,Nd4,Bxd4,exd4,Nd5,Nxd5,exd5,d6,Re1+,Kf8,Re4,Bf5,Rf4,Bg6,Nxd4,b5,Bb3,Bxd4,Rxd4,Qf6,Rg4,Bh5,c4,Bxg4,Qxg4,Qxb2,Re1,Qc3,Qe4,a5,Qe7+,Kg8,Bd1,Kh7,Bg4,Rae8', 'Bf5+,g6,Qxf7+,Qg7,Bxg6#', 'https://lichess.org/training/soZ1i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sOZBf', 'Blitz', 'CM Mozartus', 2349, 'peyman-z', 2324, 'd4,e5,dxe5,Nc6,Bf4,g5,Bg3,Bg7,Qd5,Nge7,Qe4,Ng6,Nf3,h6,e3,O-O,Bc4,Kh8,Nc3,Nge7,Rd1,a6,Bd3,Ng6,h4,d5,exd6,Re8,dxc7,Qd7,Qd5', 'Bxc3+,bxc3,Qxd5', 'https://lichess.org/training/sOZBf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sOzUD', 'Blitz', 'JimiKhan', 2003, 'Sergei1953', 2036, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,Nxd5,Nxd5,cxd5,d6,e4,g6,f4,Bg7,Nf3,O-O,Bd3,Re8,O-O,Na6,a3,Nc7,Qc2,b5,Qb1,c4,Bc2,Bg4,Bd2,Na6,Bc3,Bxc3,bxc3,Bxf3,Rxf3,Qb6+,Kh1,Nc5,f5,Re5,Qe1,Rae8,Rf4,Qd8,f6,Rxd5,g4,Nd3,Bxd3,Rxd3,Qh4,Kh8,Qh6,Rg8,g5,Qf8', 'Qxh7+,Kxh7,Rh4+,Qh6,Rxh6#', 'https://lichess.org/training/sOzUD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sP1iO', 'Rapid', 'zain2018', 1661, 'Svarog47', 1670, 'e4,e5,Nf3,d6,Nc3,Nf6,Bc4,Be7,d3,Bg4,h3,Bh5,Nd5,Nxd5,Bxd5,c6,Bb3,d5,exd5,cxd5,g4,Bg6,Nxe5,Nd7,Nxg6,fxg6,Bxd5', 'Qa5+,Bd2,Qxd5', 'https://lichess.org/training/sP1iO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sp4DL', 'Rapid', 'theorionn', 1934, 'serkanayzit', 1976, 'e4,e5,Nf3,d6,Nc3,Nf6,Bc4,Be7,d3,Bd7,Bg5,Nc6,Bxf6,Bxf6,Nd5,Be7,Nxe7,Qxe7,O-O,Na5,Bb3,Nxb3,axb3,O-O,c4,Bg4,h3,Bh5,g4,Bg6,Qd2,h6,Qe3,b6,Rfe1,Qd7,b4,Rfe8,c5,dxc5,bxc5,Red8,Nxe5,Qe6,Nxg6,Qxg6,cxb6,cxb6,f3,Rd7,Red1,h5,d4,hxg4,hxg4,a5,d5,Qf6,b3,Rc8,Rac1,Rdc7,Rxc7,Rxc7,d6,Rd7,Qd4,Qxf3,e5,Qxb3,Kf2,g6,Rd3,Qe6,Kf3,f5,g5,Kf8,Kf4,Ke8,Qxb6,Qc4+,Rd4,Qf1+,Ke3,Qe1+,Kd3,Qxe5,Qb8+,Kf7,Qb3+,Ke8', 'Qg8#', 'https://lichess.org/training/sp4DL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sp5Iz', 'Classical', 'cedavega1981', 1748, 'Deor23', 1801, 'd4,d5,Qd3,Nc6,Nf3,g6,Be3,Bf5,Qb3,b6,Qb5,Qd7,Ne5', 'Nxe5,Qxd7+,Nxd7', 'https://lichess.org/training/sp5Iz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SP7lY', 'Rapid', 'yura71', 2154, 'Saladin54', 2172, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Nf6,Nc3,Qc7,a3,b6,Bd3,Bb7,O-O,Nc6,Nxc6,dxc6,Qe2,h5,Bg5,Ng4,g3,f6,Bf4,Ne5,Rad1,Bc5,b4,Bd4,Na4,c5,bxc5,bxc5,Rb1,Bc6,Bxe5,Qxe5,Nb6,Rb8,a4,a5,Nd5,exd5,cxd5,Bxa4,Rxb8+,Qxb8,Rb1,Bb3,Bb5+,Ke7,Rxb3,Qe5,Bd3,Kf7,Rb7+,Kg6,Kg2,Kh6,Qd2+,g5,Qxa5,c4,Bb1,c3,Qc7,Qxc7,Rxc7,Rb8,d6,Rb2,d7,Rxf2+,Kh1,g4,d8=Q', 'Rf1+,Kg2,Rg1#', 'https://lichess.org/training/SP7lY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sP8F1', 'Rapid', 'Bormatuxa', 1907, 'hazemtaher', 1709, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,O-O,Nf6,Nxe5,Nxe5,d4,Bxd4,Qxd4,Qe7,f4,Nc6,Bxc6,bxc6,e5,Nd5,f5,d6,f6,gxf6,exf6,Qd7,Re1+,Kd8,Nc3,Qg4,Re4,Qg6,Nxd5,cxd5,Qxd5,Rg8,Re2,Rb8,Bd2,Bb7,Qb3,Qxf6,Rf1,Qg6,Ref2', 'Qxg2+,Rxg2,Rxg2+', 'https://lichess.org/training/sP8F1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sP8Po', 'Rapid', 'Jofus', 1830, 'klodsky', 1862, 'e4,e5,Nf3,d6,b3,c5,Bb2,Nc6,Nc3,Nf6,Bb5,a6,Bxc6+,bxc6,O-O,Bg4,h3,Bh5,Qe2,Be7,Qe3,O-O,d3,Bg6,Nh4,Ng4,hxg4,Bxh4,Ne2,Bg5,f4,exf4,Nxf4,Bxf4,Qxf4,Qd7,Rf3,Rad8,Rh3,Qe6,Kf2,d5,exd5,Rxd5,Kg1,Qe2,Rc1,Re8,Rf3,Rd7,Rf2,Qe6,g5,Rde7,Bf6,gxf6', 'gxf6,Qe3,fxe7', 'https://lichess.org/training/sP8Po');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpA5c', 'Classical', 'less64', 1741, 'EnmaAi', 1753, 'c4,e5,Nc3,c6,e3,d5,d4,e4,a3,Nf6,cxd5,cxd5,Bb5+,Bd7,Bxd7+,Nbxd7,Nge2,Rc8,Bd2,Nb6,b3,Bd6,Nb5,Bb8,a4,a6,Nbc3,O-O,h3,h6,O-O,Nh7,Nf4,Qd6,Qg4,f5,Qg6,Rf6,Qg3,g5,Nh5,Rg6,Qxd6,Bxd6,a5,Bb4,Rfc1,Nd7,Nxd5,Rxc1+,Rxc1,Bxd2,Rc7,Rd6,Ne7+,Kf8,Nxf5,Rd5,Nxh6,Bxa5,Rxb7,Nhf6', 'Nxf6,Nxf6,Rf7+,Ke8,Rxf6', 'https://lichess.org/training/SpA5c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPAfq', 'Rapid', 'damianeti', 1803, 'argatour2', 1818, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,d6,c3,Nf6,O-O,Be7,Re1,Bg4,h3,Bh5,d4,O-O,g4,Bg6,Nh4,Bxe4,Nf5,Na5,Nxe7+,Qxe7,dxe5,dxe5,Rxe4,Nxe4,Bc2,Nd6,Nd2,Qh4,Kg2,f5,Nf3,Qd8,Nxe5,fxg4,Nxg4,Nac4,Qd3,g6,Ne5,Qf6,Ng4,Qf5', 'Nh6+,Kg7,Nxf5+', 'https://lichess.org/training/sPAfq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPBl2', 'Rapid', 'Akbbar', 1646, 'taqitammi', 1819, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,c5,Be3,Qb6,Bb5,Nc6,dxc5,Bxc5,Bxc5,Qxc5,O-O,O-O,Bd3,g6,Ne2,Ncxe5,Nxe5,Nxe5,Nf4,Nxd3,Nxd3,Qd6,f4,Bd7,Ne5,Bb5,Rf2,f6,Ng4,Qb6,Qd2,Bc6,b3,Rae8,Re1,h5,Ne3,e5,g3,exf4,gxf4,Rxe3,Rxe3,d4,Re1,f5,Rfe2,Be4,Rf2,Rd8,a4,d3,cxd3,Rxd3,Qc2', 'Rg3+,hxg3,Bxc2', 'https://lichess.org/training/sPBl2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpcIL', 'Rapid', 'Everestmate', 1673, 'biv64', 1674, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,e6,Bg5,Bb4,e5,Bxc3+,bxc3,h6,Bh4,g5,Bxg5,hxg5,exf6,Qxf6,Nf3,Bd7,Bd3,Nc6,Rb1,O-O-O,Qb3,b6,Ba6+,Kb8,O-O,Na5,Qb4,Bc6,Ne5,Qh6,h3,Qf6,Nxc6+,Nxc6,Qc4,Na5,Qe2,Rdg8,Rb5,c6,Rxa5,bxa5,Rb1+,Kc7,Rb7+,Kd6,Qc4,Qf5,g4,Qd5,Qd3,Rb8,Qg3+,e5,dxe5+,Qxe5', 'Rd7+,Kxd7,Qxe5', 'https://lichess.org/training/SpcIL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('spD48', 'Rapid', 'Hagabdelhalim', 1775, 'rafon2115', 1781, 'e4,c5,Bc4,Nc6,a3,d6,Nc3,Nf6,d3,e5,Bg5,Be7,Bxf6,Bxf6,Nd5,O-O,Ne2,Be6,O-O,Bxd5,Bxd5,Qb6,Rb1,Ne7,Bc4,a6,f4,Qc7,fxe5,Bxe5,Nf4,b5,Nd5,Nxd5,Bxd5,Rab8,Qh5,a5,Rf3,b4,axb4,axb4,c3,bxc3,b3,c2,Rc1,Bd4+,Kh1,g6,Qh6,Qa5,Rxc2', 'Qe1+,Rf1,Qxf1#', 'https://lichess.org/training/spD48');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPdAy', 'Blitz', 'NM Matthew-Fishbein', 2403, 'Alexeldestrosador', 2302, 'b3,f5,Bb2,Nf6,Nf3,e6,e3,d5,d4,Bd6,Nbd2,O-O,Bd3,Nbd7,O-O,Ne4,Ne5,Ndf6,f3,Nxd2,Qxd2,Bxe5,dxe5,Nd7,e4,fxe4,fxe4,c6,Rxf8+,Nxf8,exd5,exd5,Rf1,Be6,Qe2,Qd7,Qh5,g6,Qh4,Qg7,Rf6,Re8,Qg3,Nd7,Rf1,c5,Bb5,d4,h4,Re7,Ba3,b6,Bc1,Nxe5,Re1,Bf5,Bg5,Nf3+', 'gxf3,Rxe1+,Qxe1', 'https://lichess.org/training/sPdAy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPDzw', 'Rapid', 'zal_p', 2019, 'poiuyt5', 1907, 'd4,e6,c4,c6,Nc3,f5,e4,fxe4,Nxe4,Nf6,Bd3,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Nf3,d5,Nc3,a6,O-O,b5,b3,b4,Na4,a5,Rfe1,Na6,Rac1,Qe7,cxd5,cxd5,Nb6,Rb8,Nxc8,Rbxc8,Bxa6,Rxc1,Qxc1,Ne4,Qc6,Qf6,Re2,Kh8,h3,Qh6,Bd3,Nc3,Rxe6,Qc1+,Re1', 'Ne2+,Kh2,Qxc6', 'https://lichess.org/training/sPDzw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpEun', 'Rapid', 'arsam85', 1783, 'wargass', 1785, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,c6,d3,d5,exd5,cxd5,Bb5+,Nc6,Nxe5,Qe7,Bf4,d4,Ne4', 'Qb4+,Nd2,Qxb5', 'https://lichess.org/training/SpEun');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpFos', 'Blitz', 'WHITYBILLY', 1700, 'pz2455', 1707, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Nbd2,O-O,Bd3,c4,Bb1,Nc6,O-O,Re8,Qc2,g6,Re1,Be6,Re3,Bf8,Ne5,Bg7,Qd1,Qc8,Qf3,Nxe5,dxe5,Bg4,Qf4,Nh5,Qd4,Be6,h3,Bf8,g4,Bc5,gxh5,Bxd4,cxd4,Bxh3,Bf6,Bg4,Rg3,Bxh5,Bc2,Qc6,Kg2,Re6,Rh1,Be2,Rxh7,Kxh7', 'Rh3+,Bh5,Rxh5+,Kg8,Rh8#', 'https://lichess.org/training/SpFos');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SPg0L', 'Rapid', 'bulentchess54', 2085, 'emre14', 1896, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Nf3,c5,Bd3,d5,O-O,dxc4,Bxc4,Bxc3,bxc3,Qc7,Qd3,Nbd7,a4,e5,Nxe5,Nxe5,dxe5,Qxe5,f3,Be6,Bxe6,Qxe6,e4,Rfd8,Qc2,c4,Be3,Rd3,Rfd1', 'Rxe3', 'https://lichess.org/training/SPg0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPg0M', 'Rapid', 'davoglio007', 1934, 'NeelendraMohanSukul', 1816, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,Nc6,Bxc6,bxc6,Bg5,d6,Nc3,O-O,f4,c5,Qd3,Bb7,Rad1,Re8,e5,dxe5,Qxd8,Raxd8,Rxd8,Rxd8,fxe5,Re8', 'exf6', 'https://lichess.org/training/sPg0M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpGd7', 'Blitz', 'jmgk', 1632, 'wh00ps', 1630, 'd4,Nf6,Nf3,e6,e4,d5,e5,Ne4,Bd3,Nc6,Bxe4,dxe4,Ng5,Be7,Nxe4,Bd7,O-O,O-O,Nbc3,f6,exf6,Bxf6,Nxf6+,Qxf6,d5,exd5,Nxd5,Qg6,Be3,Bh3,g3,Rad8,Re1,Qe4,Nf4,Rxd1,Raxd1,Bg4,Bc5,Qxc2,Bxf8,Bxd1,Ba3,Bf3', 'Re8+,Kf7,Rf8#', 'https://lichess.org/training/SpGd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpgW5', 'Rapid', 'md0022', 1717, 'olivier35', 1614, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,a6,Be2,e6,Bg5,Be7,O-O-O,h6,Bh4,b6,f3,Bb7,Bf2', 'Bc5,Qd3,Bxf2', 'https://lichess.org/training/SpgW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpH0F', 'Blitz', 'LM Blitzstream-twitch', 2552, 'TrueDanger', 2366, 'e3,Nf6,c4,e6,Nc3,c5,d4,cxd4,exd4,d5,Nf3,Be7,Bf4,O-O,Be2,dxc4,Bxc4,Nc6,O-O,b6,Qd2,Bb7,Rfd1,Rc8,Be2,Bd6,Bg5,h6,Bh4,g5,Nxg5,Ne7,Bd3,Kg7,Nge4,Nxe4,Nxe4,Bxe4,Bxe4,Qd7,Rac1,Rxc1,Rxc1,Ng6,Bg3,Bxg3,hxg3,Rd8,Rd1,Ne7,Qf4,Qd6,Qg4+,Ng6,Bxg6,fxg6,Qe4,Qd5,Qe3,Rd7,Rd3,e5,Qf3', 'e4,Qe2,exd3', 'https://lichess.org/training/SpH0F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpI0t', 'Rapid', 'ninjabongo', 1900, 'zerwal', 1969, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,Be6,Be2,Be7,O-O,O-O,d3,Nc6,Be3,Qc8,a3,Ne8,d4,exd4,Nxd4,Bf6,Nxc6,bxc6,f4,g6,f5,gxf5,exf5,Bxf5,Bd3,Bg6,Qf3,d5,Bh6,Bg7,Bxg6,fxg6', 'Qxf8+,Bxf8,Rxf8#', 'https://lichess.org/training/SpI0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpiCI', 'Rapid', 'ferrucciolari', 1759, 'hamid1346', 1874, 'e4,e5,f4,d6,Nf3,Nc6,fxe5,dxe5,Bb5,Bd6,d4,exd4,Qxd4,Bd7,Qxg7,Qf6,Bh6,O-O-O,Qxf6,Nxf6,Bg5,Be7,O-O,a6,Ba4,h6,Bh4,Rhg8,Kh1,Rg7,e5,Nd5,Bxe7,Ncxe7,Bxd7+,Rxd7,Nc3,Nxc3,bxc3,Nf5,Rad1,Rxd1,Rxd1,Ne3,Rd2,c6,Kg1,Kc7,Re2,Nd5,c4,Nf4,Rf2', 'Nh3+,Kf1,Nxf2', 'https://lichess.org/training/SpiCI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('spIJz', 'Classical', 'jgonzalezm132', 1775, 'brunoquemero73', 1680, 'd4,Nf6,Bf4,d6,Nc3,Bf5,Nf3,Nbd7,Nh4,Be6,e4,Nb6,b3,h6,Nf5,Bxf5,exf5,Nbd5,Nxd5,Nxd5,Bd2,Qd7,Bd3,e6,Qf3,Nf6,Qxb7,Qc8,Bb5+,Nd7,Qc6,Be7,fxe6,fxe6,O-O,Rb8,Ba5,Bd8,Rfe1,Ke7,Ba6,Rb6,Bxb6,Qxa6,Rxe6+,Kxe6,Re1+,Kf7,Qxd7+,Kg6,Qe6+,Bf6,Bxc7,Rc8,h4,Rxc7,h5+,Kh7,Qf5+,Kg8', 'Re8+,Kf7,Qe6#', 'https://lichess.org/training/spIJz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPJ1D', 'Bullet', 'IM Jamorris94', 2733, 'Escaped-From-Nowhere', 2666, 'h4,d5,a4,e5,c3,Nf6,d3,Nc6,a5,a6,Qa4,Bc5,h5,h6,Nf3,Ng4,d4,exd4,cxd4,Bd6,Nc3,Be6,e3,Qf6,Bd2,O-O,Be2,Qf5,Qb3,Rab8,Nd1,Rfe8,Bd3,Qf6,Bc3,Bf5,Qc2,Bxd3,Qxd3,Nb4,Bxb4,Bxb4+,Nc3,Qe6,Kf1,b6,axb6,Rxb6,Ne2,Bd6,Rxa6,Rxb2,Ra1,Reb8,g3,Qf6,Kg2,R8b3,Ra8+,Bf8,Qa6,Qxa6,Rxa6,Rxe2,Rf1,Rbb2,Ne5,Nxe3+,Kf3,Nxf1,Ra8,Nh2+,Kg2,Rxf2+,Kh3,Rbe2,Nd7,Nf3,Rxf8+,Kh7,Rxf7,Rh2+,Kg4,Ng5', 'Nf6+,Kh8,Rf8#', 'https://lichess.org/training/sPJ1D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('spkHE', 'Rapid', 'JamesX', 2066, 'muhibzeon', 1809, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qd6,Ne4,Qd5,Nc3,Qd6,Bc4,Nc6,O-O,Be6,Bb5,O-O-O,a4,Kb8,Bxc6,Qxc6,Nxe5,Qb6,a5,Qc5,Nf3,Nf6,a6,b6,Qe2,Bd6,d4,Qc4,Qd1,Rhe8,Bg5,h5,Ra4,Qc6,Bxf6,gxf6,d5,Bxd5,Qxd5', 'Bxh2+,Kxh2,Rxd5', 'https://lichess.org/training/spkHE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpkNn', 'Classical', 'danielmorariu10', 2307, 'Tlatoani_Montezuma', 2518, 'e4,c5,Nf3,d6,b4,cxb4,d4,Nf6,Bd3,g6,a3,bxa3,Bxa3,Bg7,O-O,O-O,c3,d5,e5,Ne4,Qe2,Nc6,Bxe4,dxe4,Qxe4,Bf5,Qe3,b5,Nbd2,Qd5,Nh4,Be6,Ne4,a5,Bc5,b4,cxb4,axb4,Rab1,Ra3,Qe1,Nxd4,Qxb4,Qxe4,Qxa3,Qxh4,Bxe7,Qf4,g3,Bd5,gxf4', 'Ne2#', 'https://lichess.org/training/SpkNn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SPMal', 'Blitz', 'dontpsy', 1587, 'Ssmmii', 1598, 'e4,c5,Nf3,Nc6,Nc3,e5,d3,d6,Bg5,Be7,Be3,Nf6,Be2,O-O,O-O,b5,Nxb5,Ba6,Nc3,Nd4,a3,h6,b4,Nh7,bxc5,dxc5,Nxe5,Nxe2+,Qxe2,Bf6,f4,Re8,Bxc5,Bxe5,fxe5,Rxe5,Qf2,Qc7,Nd5,Qd7,Bd4,Re6,g4,Rg6,h3,Ng5,Kg2,Nxh3,Kxh3', 'Qxg4+,Kh2,Qh5+,Qh4,Qxh4#', 'https://lichess.org/training/SPMal');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpMeF', 'Rapid', 'prasam1969', 1787, 'Kuchrodis', 1739, 'e4,e5,Bc4,Nc6,a3,a6,Ba2,h6,Nf3,Nd4,Nxe5,Qg5,Nf3', 'Qxg2,Nxd4,Qxh1+', 'https://lichess.org/training/SpMeF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('spMgF', 'Blitz', 'AKA73', 1918, 'IM Themagic79', 2145, 'd4,Nf6,Nf3,c5,e3,e6,g3,b6,Bg2,Bb7,O-O,cxd4,exd4,Be7,c3,O-O,Bg5,h6,Bxf6,Bxf6,Nbd2,d6,Re1,Nd7,Qe2,Re8,Ne4,Bxe4,Qxe4,d5,Qe3,b5,a3,a5,b4,Qc7,Rec1,Rec8,Ne1,Nb6,Nd3,Nc4,Qe1,axb4,axb4,Qc6,Nc5,Rxa1,Rxa1,Ra8,Qb1,g6,Bf1,Kg7,Bxc4,Rxa1,Qxa1,dxc4,Qd1,Be7,Qe2,Qd5,f3,h5,Kf2,h4,Qe4,hxg3+,hxg3,Qh5,Qe5+,Qxe5,dxe5,Bxc5+,bxc5,Kf8,Ke3,Ke8,Kd4,Kd7,g4,g5,Ke4,Kc6,Kd4,Kb7,Ke4,Kc7,Kd4', 'Kc6,f4,gxf4', 'https://lichess.org/training/spMgF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPMPt', 'Blitz', 'VINCENT_99', 1782, 'Ignorante', 1895, 'b4,b5,e3,e5,Bxb5,Bxb4,a3,Bc5,Bb2,c6,Bc4,d5,Bb3,Nd7,c3,Ngf6,d4,exd4,cxd4,Bd6,Nf3,O-O,O-O,Ba6,Re1,Re8,Nbd2,c5,dxc5,Nxc5,Ba2,Bb7,Nb3,Nce4,Nfd4,Rc8,Rc1,Bb8,Rxc8,Qxc8,Qc1,Qg4,f3,Qh5,h3,Ng3,Nc5,Ba8,Ne2,Nxe2+,Rxe2,Qe5,Bxe5,Bxe5,e4,d4,Rd2,Nh5,Bd5,Bf4,Qc2,Bxd5,exd5', 'Re1+,Kf2,Bg3#', 'https://lichess.org/training/sPMPt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SPOH5', 'Blitz', 'IM elohunter99', 2486, 'Vaasco', 2448, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Qg4,O-O,Bd3,f5,exf6,Rxf6,Bg5,Rf7,Qh5,g6,Qh4,Nbc6,Nf3,c4,Be2,Qa5,Bd2,Nf5,Qh3,Nd6,O-O,Ne4,Be1,e5,Qh4,exd4,cxd4,Qa4,Ng5,Nxg5,Qxg5,Rf5,Qd2,Bd7,f3,Re8,Bg3,Nxd4,Bd1,Nc6,c3,Qa5,Bc2,Rf7,Rae1,Rfe7,Rxe7,Rxe7,Rd1,Be6,h4,Qxa3,h5,gxh5,Qg5+,Rg7,Qf6,Qe7,Qf4,Qf8,Qe3,Rxg3,Qxe6+,Qf7,Qc8+,Kg7,Rb1,Na5,Rb5,Qxf3,Qc7+,Kf6,Qd6+,Kg5', 'Rxd5+,Qxd5,Qxd5+', 'https://lichess.org/training/SPOH5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SPohv', 'Classical', 'tsushantasingh', 1926, 'kenab1', 1922, 'd4,d5,e3,e6,c4,Nf6,Nf3,Bb4+,Nc3,O-O,Be2,b6,O-O,Bb7,Bd3,Nbd7,Bd2,Bxc3,bxc3,c5,Qe2,dxc4,Bxc4,Ne4,Ba6,Nxd2,Nxd2,Rb8,Bxb7,Rxb7,Qa6,Qc7,Nf3,Nb8,Qd3,h6,Rfc1,Rc8,Ne5,Nd7,Nxd7,Qxd7,Qe4,Rbc7,Rd1,Qa4,Qe5,cxd4,Rxd4,Rxc3,g3,Rc1+,Rxc1,Rxc1+,Kg2,Qc6+,Kh3,Rc5,Qb8+,Kh7,Rd8,Rh5+,Kg4,f5+,Kxh5', 'Qf3+,Kh4,Qg4#', 'https://lichess.org/training/SPohv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SPr4i', 'Rapid', 'KiyoGH', 1776, 'Milo108', 1803, 'e4,e5,Nf3,Nf6,Bd3,Nc6,b3,Bc5,Bb2,d6,Kf1,O-O,Qe2,Bg4,Nc3,Nb4,Rd1,Nh5,h3,Nf4,Qe1,Bxf3,gxf3,Qg5,Rg1,Qh4,Rh1,Qg5,Rg1,Qh4,Rh1,Nxh3,Qe2,c6,a3,Na6,Re1,d5,exd5,cxd5,Nxd5,Rae8,Rh2,Re6,Nc3,Rh6,b4,Be7,Nd1,Bg5,Ne3,Rh5,Nd1,Bf4,Rh1,Nc7,Ne3,Ne6,c3,Neg5,c4,h6,Bc3,g6', 'Ng2,Qxf2+,Qxf2,Nxf2,Kxf2', 'https://lichess.org/training/SPr4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sprC4', 'Rapid', 'Ccapanegra', 1831, 'angerdav', 1913, 'e4,e6,d4,d5,exd5,Qxd5,Nf3,Nc6,c4,Qd8,Nc3,Bb4,d5,exd5,cxd5,Nce7,Qa4+,c6,Qxb4,Nxd5,Nxd5,Qxd5,Be2,Nf6,O-O,a5,Qa3,b5,Qe3+,Be6,Ng5,O-O,Bf3,Qd7,Rd1,Qc8,Qc3,Nd5,Qc5,h6,Nxe6,Qxe6,Bxd5,cxd5,Qxd5,Rad8,Qxd8,Rxd8,Rxd8+,Kh7,Be3,f5,g3,a4,a3,Qe4,Rad1,Qc2,R1d2,Qb1+,Kg2,Qe4+,Kf1,Qh1+,Ke2,Qxh2,R8d7,Qh5+,Kd3,Qf3,Kc2,Qe4+,R2d3,Qc4+,Kd1,Qg4+,Kc1,Qc4+,Kb1,Qe4,Ka1,b4,axb4,Qxb4,Bd4', 'Qe1+,Ka2,Qe6+,Kb1,Qxd7', 'https://lichess.org/training/sprC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPrL7', 'Rapid', 'jotace_61', 1760, 'hamacbri', 1698, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Bd7,Bc4,e6,O-O,Qf6,Nf3,Ne5,Nxe5,Qxe5,f4', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/sPrL7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpSI3', 'Classical', 'ert23', 1848, 'gastonlasvictorias', 1838, 'c4,e5,b3,Nf6,Bb2,Nc6,d3,Bb4+,Nd2,O-O,a3,Be7,e3,d5,Be2,Be6,b4,a6,Ngf3,e4,Nd4,exd3,Nxe6', 'dxe2,Qxe2,fxe6', 'https://lichess.org/training/SpSI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPssv', 'Rapid', 'Sportsmanship', 1933, 'lever9103', 1937, 'd4,d5,c4,dxc4,Nc3,e5,Nf3,exd4,Nxd4,Bb4,e3,Nf6,Qa4+,Bd7,Qxb4,b6,Bxc4,c5,Qb3,cxd4,Bxf7+,Kf8,exd4', 'Qe7+,Be3,Qxf7', 'https://lichess.org/training/sPssv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPt1G', 'Rapid', 'DukeNails', 2082, 'chesschess35', 1937, 'd4,d5,Bf4,Nf6,e3,Bg4,Nf3,e6,c4,Bb4+,Nbd2,Ne4,Qa4+,Nc6,a3,Qh4,g3,Bxf3,axb4,Qh5,cxd5,exd5,Bb5,Bxh1,Bxc6+,bxc6', 'Qxc6+,Ke7,Qxc7+', 'https://lichess.org/training/sPt1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SpT8p', 'Classical', 'itsjustmet', 1737, 'Shoulaad', 1743, 'd4,Nf6,Bf4,g6,e3,Bg7,c3,O-O,Nf3,d6,Bd3,c5,Qc2,Nc6,Nbd2,a5,dxc5,dxc5,Ne5,Nxe5,Bxe5,Rb8,Bxb8,Bh3,gxh3,Qxb8,O-O-O,b5,Ne4,c4,Nxf6+,Bxf6,Be4,Rc8,Kb1,b4,cxb4,axb4,Bd5,c3,b3,Rc5,Bc4,e6,f4,Ra5,Rhg1,Qa7,e4', 'Rxa2,Qxa2,c2+,Kxc2,Qxa2+', 'https://lichess.org/training/SpT8p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPtLp', 'Rapid', 'Everestmate', 1770, 'poiss', 1727, 'Nf3,d5,d4,e6,c4,Nf6,Nc3,Be7,g3,c5,Bg2,cxd4,Nxd4,Nc6,cxd5,Nxd4,Qxd4,O-O,Bg5,h6,Bxf6,Bxf6,Qb4,Bxc3+,Qxc3,exd5,Rd1,Be6,e4,Rc8,Qb4,Rc4,Qxb7,Qa5+,Kf1,dxe4,Bxe4,Qxa2,Kg2,a5,Ra1,Rb4,Qxb4,axb4,Rxa2,Bxa2,Ra1,Be6,f4,Rd8,Kf3,g6,Ra7,Rd2,Rb7,Rxb2,h4,h5,Bc6,b3,Ke3,Rb1,Kf2,Rc1,Ba4,Rc2+,Kg1,Rc1+,Kf2,Rb1,Ke3,Kg7,Bc6,Kf6,Kf2,b2,Be4,Ra1,Rxb2,Ra3,Re2,Bc4,Rc2,Bb3,Rc6+,Ke7,Rc3,Ra2+,Ke3,Be6,Rc2,Ra3+,Kf2,Kf6,Rc6,Ke7,Rc7+,Kd6,Rc2,Ke7,Rc7+,Kf6,Rc2,Ke7,Ke1,Rxg3,Rg2,Re3+,Re2,Rh3,f5,Bd7', 'Bg2+,Kf6,Bxh3', 'https://lichess.org/training/sPtLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('spuFD', 'Rapid', 'Roziqul', 1892, 'KarimMerhi', 2334, 'd4,d5,Nf3,c5,e3,Nc6,c3,cxd4,exd4,Nf6,Nbd2,g6,Bd3,Bg7,O-O,O-O,Ne5,Nd7,f4,e6,Ndf3,Qb6,Nxd7,Bxd7,Ne5,Nxe5,fxe5,Bxe5,Be3,Bg7,Qf3,Qxb2,Rab1,Qxc3,Bf2,Bxd4,Bxd4,Qxd4+,Kh1,Bc6,a3,e5,Rb4,Qc3,Qh3,Qxa3,Rh4,h5,Rxh5,gxh5,Qg3+,Kh8,Qh3,f5,Qxh5+,Kg7,Qg5+,Kf7,Qxf5+,Ke7,Qxe5+,Kd8,Qg5+,Kd7,Bf5+,Kc7,Qg7+,Kb8', 'Qe5+,Qd6,Qxd6#', 'https://lichess.org/training/spuFD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPUPd', 'Blitz', 'EliasElu-man', 1591, 'YuviChess', 1654, 'e4,f5,exf5,Nf6,g4,d5,d4,Nc6,Nf3,e6,Bd3,exf5,gxf5,Be7,Be3,O-O,Nc3,Bb4,a3,Bxc3+,bxc3,a6,Qd2,Ne7,Nh4,Ng4,O-O-O,Nxe3,Qxe3,Nxf5,Nxf5,Bxf5,Rhg1,Qd6,Qg5,Qxa3+,Kd2,Bxd3', 'Qxg7#', 'https://lichess.org/training/sPUPd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SPuTb', 'Rapid', 'ryanefiles', 1782, 'MatheusIsk', 1859, 'd4,d5,Bf4,Nf6,e3,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Bb4+,c3,Ba5,b4,Bb6,a4,a6,a5,Ba7,O-O,O-O,Nbd2,Nbd7,Ne5,h6,Ndf3,Nh5,Bg3,Nxg3,fxg3,b6,Nc6,Qf6,Nfe5,Nxe5,dxe5,Qg5,axb6,Bxb6,Rf3,f6,h4,Qh5,exf6,Rxf6,Rxf6,gxf6,Ne7+,Kf7,Nc6,Qg4,Rf1,Qxg3', 'Qh7+,Qg7,Ne5+', 'https://lichess.org/training/SPuTb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('spW9y', 'Rapid', 'SDemian', 1795, 'Arraju', 1764, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,Bc4,a6,Qf3,Nf6,e5,d5,exf6,dxc4,fxg7,Bxg7,Qe4+,Be6,O-O,O-O,d3,Bd5,Qg4,Qf6,Nd2,Kh8,dxc4,Bc6,Ne4,Bxe4,Qxe4,Rae8,Qxb7,Rg8,Qxc7,Qh4,Qf4,Qh5,Bd2,Be5,Qh6,Rxg2+,Kxg2,Rg8+,Kh1', 'Qf3#', 'https://lichess.org/training/spW9y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SPWH1', 'Blitz', 'melmania', 2040, 'FaulerZauberer', 2017, 'e3,d5,b3,Nf6,Bb2,c6,f4,Bg4,Be2,Bxe2,Qxe2,e6,Nf3,Nbd7,O-O,Bc5,Ne5,Nxe5,Bxe5,d4,b4,Bb6,Na3,O-O,Nc4,dxe3,Nxb6,Qxb6,Bxf6,exd2+,Kh1,gxf6,Qxd2,Rad8,Qe2,Qxb4,Rab1,Qd2,Qg4+,Kh8,Qh4,Rg8,Qxf6+,Rg7,Rg1,Rd5,Rxb7', 'Qxg2+,Rxg2,Rd1+,Rg1,Rxg1#', 'https://lichess.org/training/SPWH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('spWI1', 'Blitz', 'BENZ1387', 2404, 'Parva_behzadnaz', 2262, 'e4,c5,c4,Nc6,Nc3,g6,g3,Bg7,Bg2,e5,d3,d6,Nge2,Nge7,h4,h5,Bg5,Be6,Nd5,Bxd5,cxd5,Nd4,Nxd4,cxd4,Qa4+,Qd7,Qb3,O-O,O-O-O,Rac8+,Kb1,Rc5,Bh3,Qc7,g4,a5,gxh5,gxh5,Rhg1,Ng6,Bf5,Ra8,Rde1,a4,Qd1,a3,b3,Rc3,Qxh5', 'Rxb3+,axb3,a2+,Ka1,Qc3#', 'https://lichess.org/training/spWI1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPx3v', 'Rapid', 'meranaam', 2052, 'Shudinanto', 2115, 'e4,e5,Qh5,Qf6,Nf3,Nc6,Bc4,g6,Qg5,Be7,Qg3,h5,h3,h4,Qh2,b6,Nc3,Bb7,d3,Bb4,Bd2,Bxc3,Bxc3,d6,Bd2,Qg7,O-O,Nge7,Bg5,f6,Bxh4,g5,Bg3,g4,Nd2,Nd4,c3,Ne2+,Kh1,gxh3,gxh3,Bc8,h4,Bg4,d4,O-O-O,Bxe2,Bxe2,Rfe1,Bg4,Qg2,f5,exf5,Nxf5,Re4,exd4,cxd4,Nxh4,Bxh4,Rxh4+,Kg1,Rg8,Rae1,Be2', 'Re8+,Rxe8,Qxg7', 'https://lichess.org/training/sPx3v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPYTG', 'Rapid', 'nanoscience', 1664, 'Qazwerf', 1619, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Be2,d5,exd5,Nxd5,Nxd5,Qxd5,O-O,Bg4,d3,O-O-O,a3,h5,c4,Qe6,Ng5,Bxe2', 'Nxe6,Bxd1,Nxd8,Nxd8,Rxd1', 'https://lichess.org/training/sPYTG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sPzwG', 'Rapid', 'vg62', 1752, 'SPIKECROW_LEON_SANDY', 1692, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Nf6,d3,d6,h3,Be6,Nd2,Be7,O-O,O-O,Bb3,c6,Bc2,d5,b3,g6,Bb2,Nh5,c4,d4,Bc1,Nf4,Nb1,Nh5,Bd1,f5,Qe2,f4,Nd2,Qd7,Nf3,Bxh3,gxh3,Qxh3,Nh2,Bh4,Qf3,Ng3,fxg3', 'fxg3,Ng4,Rxf3', 'https://lichess.org/training/sPzwG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQ0ra', 'Rapid', 'dan4444o', 2019, 'LegendarnyAfrojax', 2049, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,b6,Qc2,Bb7,e3,Ne4,Bd3,f5,Bxe4,Bxe4,Qb3,a5,a3,a4,Qxb4,Nc6,Qb5,Ra5,Qxa5,Nxa5,Nxe4,fxe4,Nd2,Qg5,O-O,Qf5,Rb1,Nb3,Nxb3,axb3,Bd2,O-O,Rbc1,d5,cxd5,Qxd5,Rxc7,e5,Bb4,Rb8,Rd1,h5,Re7,exd4,Rxd4,Rc8', 'Re8+,Rxe8,Rxd5', 'https://lichess.org/training/SQ0ra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sq1vl', 'Rapid', 'rehanna', 1708, 'Noguera00', 1692, 'e4,g6,Nf3,Bg7,d4,Nf6,e5,Nd5,c4,Nb6,Nc3,O-O,a4,d6,a5,N6d7,Bf4,b6,Qe2,Ba6,e6,Nf6,d5,fxe6,dxe6,Nh5,Qe4,c6,Bg5,Nf6,Qe3,d5,axb6,axb6,Be2,Bb7,Rxa8,Bxa8,O-O,Na6,cxd5,cxd5,Bxa6,Ng4,Qd3,Qd6,h3', 'Rxf3,hxg4,Rxd3', 'https://lichess.org/training/sq1vl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQ3PL', 'Rapid', 'klassak', 1728, 'Smoothyungman', 1671, 'd4,d6,c4,e6,e4,c6,Nc3,g6,Be3,Bg7,Bd3,Ne7,Nge2,b6,Qc2,O-O,O-O-O,a6,h4,b5,h5,bxc4,Bxc4,d5,Bd3,dxe4,Bxe4,Bb7,hxg6,fxg6,Nf4,Qd7,Rxh7,Kxh7,Nxg6,Nxg6,Bxg6+,Kg8,Rh1,Rf6,Bh5,Bh6,Ne4,Bxe3+,fxe3,Rh6,Ng5,Qg7,Ne4,Nd7,Nd6,Nf6,Bf7+,Kf8,Rxh6,Qxh6,Bxe6,Ke7', 'Nf5+,Kxe6,Nxh6', 'https://lichess.org/training/SQ3PL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sq5VN', 'Rapid', 'MihoSevastopol', 1868, 'HAOS65', 1716, 'd4,b6,e4,Bb7,Nc3,e6,Bd3,Bb4,Bd2,Nf6,f3,Bxc3,Bxc3,d5,e5,Nfd7,g4,Nc6,f4,Qh4+,Kf1,f6,Be1,Qh6,Bd2,g6,c3,O-O,Qf3,fxe5,Qh3,Qg7,Ne2,exf4,Ke1,e5,Rf1,e4,Bb5,f3,Bh6,fxe2', 'Rxf8+,Qxf8,Bxf8', 'https://lichess.org/training/sq5VN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQ6g5', 'Rapid', 'theo', 1930, 'FunnyFighter', 1901, 'd4,d6,e3,g6,Nf3,Bg7,a3,Nd7,b4,c5,bxc5,dxc5,Bb2,cxd4,Bxd4,Ngf6,Bb5,O-O,Bxd7,Bxd7,O-O,a6,Nbd2,Rc8,c3,Be6,Qb1,b5,a4,Nd5,Bxg7,Kxg7,axb5,Nxc3,Qb4,axb5,Rfe1,Qb6,Ra5,Rc5,Rea1,Rfc8,h3,Nd5,Qd4+,f6,Nb3,Rc3,Qxb6,Nxb6,Nbd4,Rc1+,Kh2,Rxa1,Rxa1,Bc4,Rb1,Rc5,Nd2,Na4,Nxc4,Rxc4,Rxb5,Nc3,Rb7,Kf7,g3,Ne4,Kg2,h5,Kf3,Ng5+,Kg2,Ne4,h4,Nd6,Ra7,f5,Kf3,Ne8,Nb5,Kf6,Nd4,Nd6,Kf4', 'e5+,Kf3,exd4', 'https://lichess.org/training/SQ6g5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sq8DY', 'Rapid', 'Juninho_17', 1937, 'bhekekhaya', 1883, 'd3,d5,Nf3,c6,e3,Nf6,Be2,Bg4,h3,Bh5,Nc3,Nbd7,Bd2,e6,g4,Bg6,Nh2,Bb4,h4,h6,h5,Bh7,a3,Ba5,Bf3,Bc7,Qe2,Qe7,O-O-O,b5,e4,a5,g5,hxg5,Bxg5,b4,axb4,axb4,Nb1,Qc5,d4,Qc4,exd5,cxd5', 'Qxc4,dxc4,Bxa8', 'https://lichess.org/training/Sq8DY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQatP', 'Rapid', 'HembreGM', 1862, 'Porkchops-3_99kg', 1914, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,O-O,Bd7,c3,Be7,Nbd2,O-O,Re1,a6,Ba4,b5,Bc2,Re8,Nf1,h6,Ng3,Bg4,h3,Bc8,a3,Bb7,Qe2,Bf8,Bd2,Qd7,Rad1,Ne7,Bc1,Ng6,Nf5,d5,N3h4,Nxh4,Nxh4,dxe4,dxe4,Qc6,Nf5,Rad8,Rxd8,Rxd8,Qf3,a5,Qg3,Kh7,Qh4,b4,axb4,axb4,Bb1,bxc3,bxc3,Qxc3,f3,g5', 'Bxg5,Qxe1+,Qxe1', 'https://lichess.org/training/SQatP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sqbdh', 'Classical', 'olatoks', 1754, 'RASIDH', 1786, 'e4,e5,Nf3,Bc5,d4,exd4,Nxd4,d6,Bc4,h6,O-O,Ne7,Qh5,O-O,Bxh6,Bxd4,c3,Bf6,Be3,Nbc6,Nd2,Ne5,Qe2,Bg4,f3,Be6,Rad1,Nxc4,Nxc4,Ng6,f4,a6,Na3,Bd7,Qh5,Bc6,Rf3,Re8,Rh3,Bxe4,f5,Nh4,Bd4,Bg5,f6,gxf6,Rxh4,Bxh4,Qxh4,Re5', 'Bxe5,fxe5,Qxe4', 'https://lichess.org/training/Sqbdh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQBHF', 'Classical', 'erdembeyaz', 1620, 'victordik', 1723, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Nxe5,Qe7,Nd3,Nxe4,Nxc5', 'Nxc3+,Be2,Nxd1', 'https://lichess.org/training/SQBHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SqE3t', 'Blitz', 'grillage', 2022, 'steredo', 2043, 'd4,Nf6,Nf3,g6,c4,c5,d5,b5,Qc2,bxc4,e4,d6,Bxc4,Bg7,O-O,O-O,Nc3,Ba6,Nd2,Bxc4,Nxc4,Na6,Bg5,h6,Bf4,Rb8,Rab1,Qd7,Qd2,Kh7,Rfe1,Rb4,b3,Rfb8,Rbc1,R4b7,e5,Nh5,exd6,Nxf4,Qxf4,exd6,Qxd6,Re8,Rxe8,Qxe8,Qxa6,Re7,Ne3,Bd4,d6,Rxe3,d7,Re1+,Rxe1', 'Qxe1+,Qf1,Bxf2+,Kh1,Qxf1#', 'https://lichess.org/training/SqE3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQfCV', 'Blitz', 'halsau', 2469, 'FM luiso1961', 2509, 'e4,e5,d4,exd4,c3,d3,Nf3,Nc6,Bxd3,Bc5,O-O,d6,b4,Bb6,Bg5,Nf6,Nbd2,h6,Bh4,Ne5,Nc4,Nxc4,Bxc4,O-O,e5,dxe5,Qxd8,Rxd8,Nxe5,Be6,Bxf6,gxf6,Bxe6,fxe6,Ng4,Kg7,Rfe1,h5,Ne3,Rd3,Nc4,Rxc3,Nxb6,axb6,Rxe6,Rxa2,Rf1,Rb2,h4,Rxb4,g3,Rb2,Re4,b5,Rd1,Rc4,Rd7+,Kg6,Ree7,b4,Rxc7,b5,Rg7+,Kf5,Rb7,Rc5,Rh7,Kg6', 'Rbg7+,Kf5,Rxh5+', 'https://lichess.org/training/SQfCV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQFfy', 'Rapid', 'nerepla', 1824, 'Vladimir07', 1877, 'e4,c5,f4,Nc6,Nf3,g6,Bb5,Bg7,c3,a6,Bxc6,dxc6,O-O,e6,Kh1,Ne7,d4,cxd4,Nxd4,O-O,Be3,c5,Nf3,b6,Qe1,Bb7,Nbd2,Qc7,Qh4,f6,e5,Nf5,Qh3,Nxe3,exf6,Bxf6,Qxe6+,Qf7,Qxe3,Rfe8,Qf2,Rad8,Qg3,Re3,Rae1,Rxe1,Rxe1,b5,Ne4,Bxe4,Rxe4,Rd1+,Re1,Rxe1+,Qxe1,Qe7,Qd2,c4,Kg1,Qc5+,Kf1,Qf5,Qe3,Kf7,Qa7+,Be7,Ne5+,Kf8,Qb8+,Kg7,g3,g5,Qe8,Qf6,Kg2,gxf4,gxf4,Bd6,Qd7+,Kg8,Qe8+,Bf8,Ng4,Qg6,Kh3', 'Qxe8,Nf6+,Kf7,Nxe8,Kxe8', 'https://lichess.org/training/SQFfy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQFNH', 'Blitz', 'bzoabdo', 1812, 'Antoshen', 1837, 'e4,d6,d4,g6,Nc3,Bg7,Nf3,Nf6,Bd3,O-O,O-O,Nbd7,Qe2,e5,Bg5,exd4,Nxd4,h6,Be3,Ne5,f4,Nxd3,cxd3,Bg4,Qf2,c5,Nde2,Qb6,Rab1,Qa6,a3,Qxd3,Rbd1,Qa6,Rxd6,Qxd6,e5,Qc6,exf6,Bxf6,Bxc5,Bxe2,Nxe2,Rfe8,Nd4,Bxd4,Bxd4,Rad8,Bc3,a6,Qh4,Kh7,f5,Rd7,fxg6+,fxg6,Qg4,Rde7,h4,Qd7,Qc4,Rc8,Qf4,Qe6,Bd4,Qe4,Qf6,Rce8,h5,Qe6', 'hxg6+,Kg8,Qh8#', 'https://lichess.org/training/SQFNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sQfTQ', 'Rapid', 'Murxer', 2128, 'electricsheepdreams', 2185, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,Bd7,Bd3,cxd4,cxd4,Qb6,Bc2,Nb4,Nc3,Nxc2+,Qxc2,Qa6,Be3,Ne7,O-O-O,Rc8,Kb1,Nc6,Qd3,Qa5,a3,a6,Nd2,b5,Nb3,Qb6,Nc5,Bxc5,dxc5,Qa5,Na2,Nxe5,Qd2,Qc7,Nb4,Nc4,Qc3,a5,Qxg7,Rf8,Bh6,Ke7,Bg5+,Ke8,Nxd5,exd5,Rhe1+,Be6,Rxd5,Qc6,Rdd1,Qxc5,g4,Nxa3+,bxa3', 'Qc2+,Ka1,Qa2#', 'https://lichess.org/training/sQfTQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqgeE', 'Rapid', 'plms', 1890, 'potatolegacy', 1927, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,d3,d6,c3,O-O,b4,a6,a4,Bd7,a5,Kh8,Qb3,Qe8,Ng5,Nd8,f4,h6,fxe5,dxe5,Nf3,Bd6,Be3,Be6,Bxe6,Qxe6,Qxe6,Nxe6,Nbd2,Nf4,Ne1,Ne2+,Kh1,Nxc3,Nc4,Nb5,Nf3,Nd7,Rab1,f6,Nh4,Kh7,Nf5,g6,Nxh6,Nc3,Rb2,Kg7,Ng4,g5,Rbf2,Be7,h4,gxh4,Bh6+,Kg6,Bxf8,Rxf8,Kh2,Nb5,Nce3,Bxb4,Nd5,Bc5,Ngxf6', 'Bxf2,Nxd7,Bg3+', 'https://lichess.org/training/sqgeE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqiMg', 'Classical', 'kahraman9', 1753, 'Burn_It_Down', 1793, 'd4,d5,c4,e6,Nc3,Be7,Bf4,Nf6,Nf3,O-O,e3,c5,dxc5,Bxc5,Be2,Nc6,O-O,a6,a3,dxc4,Bxc4,b5,Bb3,Bb7,Ne5,Nxe5,Bxe5,Qe7,Bxf6,Qxf6,Qh5,Qg6,Qxg6,hxg6,Rad1,Rfd8,Ne2,Kf8,Nd4,Ke7,Ba2,Rd7,Nb3,Bb6,Rxd7+,Kxd7,Rd1+,Ke7,Nd4,Rd8,Bb3,Bxd4,Rxd4,Rxd4,exd4,Kd6,f3,Bd5,Bc2,Bc4,Kf2,a5,Ke3,a4,f4,Bf1,Kf2,Bc4,Ke3,f5,Bd3,Kd5,h3,Kd6,g4,Bxd3,Kxd3,fxg4,hxg4,Kd5,g5,Kc6,Kc3,Kd6', 'Kb4,Kc6,Ka5', 'https://lichess.org/training/sqiMg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQiNZ', 'Rapid', 'dypaul2272', 2165, 'ARYATETRA', 2082, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bf4,O-O,e3,a6,c5,b5,a3,c6,h3,Nbd7,Bd3,g6,b4,Nh5,Bh2,Ndf6,Ne5,Bb7,f4,Ng7,O-O,a5,Qc2,axb4,axb4,Qc7,Bxb5,cxb5,Nxb5,Qc8,Nc3,Rxa1,Rxa1,Nf5,Qd2,Ne4,Nxe4,dxe4,b5,Bxc5', 'dxc5,Qxc5,Nd7,Qxb5,Nxf8', 'https://lichess.org/training/SQiNZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqiwY', 'Rapid', 'Sridhar114', 1696, 'calm_buddha', 1794, 'e3,e5,Nc3,Nf6,a3,Bc5,h3,O-O,Qf3,c6,Nge2,d5,Ng3,e4,Qd1,Be6,Nh5,Nbd7,Nxf6+,Nxf6,g4,Qc7,Bg2,Rad8,g5,Nd7,h4,Bf5,h5,d4,exd4,Bxd4,Nxe4,Rfe8,d3,Nc5,Kf1,Nxe4,dxe4,Bxe4,Bxe4,Rxe4,Qf3,Qe5,Kg2,Re8,g6,fxg6,hxg6,h6', 'Qf7+,Kh8,Rxh6+,gxh6,Qh7#', 'https://lichess.org/training/sqiwY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqjYY', 'Blitz', 'GM volodja49', 2454, 'planetchuky', 2405, 'd4,e6,c4,Nf6,Nc3,Bb4,f3,c5,d5,exd5,cxd5,d6,e4,Nbd7,Ne2,O-O,Ng3,Re8,Be2,a6,O-O,b5,Be3,c4,Qd2,Ne5,h3,Qc7,Kh2,Ng6,Bd4,Bc5,Bxf6,gxf6,Qh6,Bd4,Rad1,Be5,f4,Nxf4,Rxf4,Bxf4,Qxf4,Qe7,Rf1,f5,exf5,Kh8,f6,Qe5,Qh6,Rg8,Rf4,Rg6,Qh4,Bd7,a3,Rag8,Nce4,Qxb2,Bg4,Be8,Bf5,c3,Bxg6,fxg6,Rg4,c2,Qxh7+,Kxh7', 'Rh4#', 'https://lichess.org/training/sqjYY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sQKBu', 'Rapid', 'worfect', 1783, 'topi-nalle', 1714, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,Be7,a3,c6,d3,Nbd7,h3,h6,Bd2,Nc5,Qc1,b5,Ba2,a5,Ne2,Nh5,g4,Nf6,Ng3,Na4,Nf5,Bxf5,gxf5,Qc7,Rg1,Bf8,Nh2,O-O-O,b3,Nc5,Bc3,Nh5,Qd2,Nb7,O-O-O,Nf4,d4,Nxh3,Rg3,Ng5,d5,Nxe4,Qe3,Nxg3,Qxg3,c5,b4,axb4,axb4,cxb4,Bxb4,Nc5,Qa3,Na4,Rd3,Kb7,Bb3,Ra8,Bxa4,Rxa4,Qb2,Be7,Rc3,Qb6,Ng4,Bg5+,Kd1,f6,Rc6,Qa7,Qc3,Rxb4,Rc7+,Kb6', 'Qc6+,Ka5,Rxa7#', 'https://lichess.org/training/sQKBu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sQkG5', 'Blitz', 'plyutenko', 1614, 'Gat333', 1594, 'e4,e5,f4,exf4,Nf3,Nf6,d4,Nxe4,Bxf4,Be7,Bc4,Bh4+,g3,Bf6,Be5,O-O,Nbd2,d5,Bd3,Bxe5,Nxe5,Nxd2,Qxd2,Re8,O-O-O,f6,Ng6,Nc6,Qf2,Bg4,Rdf1,Nb4,Nf4,Nxa2+,Kb1,Nb4,h3,Nxd3,Nxd3,Bh5,g4,Bg6,Nf4,Be4,Rhg1,a5,h4,a4,g5,a3,b3,a2+,Ka1,b6,Nh5,fxg5', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/sQkG5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqkGs', 'Rapid', 'gueldos', 2041, 'Orospeda', 1967, 'e4,e5,f4,exf4,Bc4,Qh4+,Kf1,Nf6,Nf3,Qh6,d4,d6,e5,dxe5,dxe5,Nfd7,Nc3,c6,Ne2,g5,h4,Be7,Kg1,Qg6,hxg5,Bxg5,Nxg5,Qxg5,Bxf4,Qg4,Qd6,Rg8,Rh2,h5,Kf2,Rg6,Qd4,Na6,Bxa6,bxa6,Rd1,Bb7,Rd3,c5,Qxd7+,Qxd7,Rxd7,Kxd7,g3,Rh8,c4,h4,Kf1,h3,Kf2,Bg2,Nc3,Rb8,b3,a5,Na4,Kc6,Nc3,Rgg8,Nb5,a6,Nd6,a4,Nxf7,axb3,axb3,Rxb3,Nd6,Rb2+,Ke3,a5,e6,Rb3+,Kf2,a4,e7,a3,e8=Q+,Rxe8,Nxe8,a2,Be5,Rb1,g4,a1=Q,Bxa1,Rxa1,g5,Rc1,g6,Rxc4,Kg3,Re4,Nf6,Re6', 'g7,Rxf6,g8=Q', 'https://lichess.org/training/sqkGs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqKJe', 'Classical', 'CTAJIEBAP', 1795, 'Poljska_konjica', 1802, 'd4,d5,c4,dxc4,e3,e6,Nc3,Bd7,Bxc4,Bd6,Nf3,Nf6,O-O,a6,a4,c6,e4,Bb4,e5,Bxc3,exf6,Qxf6,bxc3,O-O,Bg5,Qf5,Bd3,Qd5,c4,Qd6,c5,Qc7,a5,Be8,Re1,f6,Bh4,Qd7,Bc4,Bf7,Re3,Re8,Qe2,g5,Bg3,g4,Nh4,Qxd4,Bxe6', 'Qxa1+,Qe1,Qxe1+', 'https://lichess.org/training/sqKJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sQLrO', 'Blitz', 'u_k', 2028, 'FM MFdanielrangel', 2191, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,O-O,h3,d6,Be2,Nc6,O-O,Re8,Nbd2,e5,Bg3,Nh5,Bh2,f5,c3,f4,exf4,Nxf4,Bxf4,exf4,Bd3,Qf6,Qc2,Bd7,Rfe1,Kh8,Ne4,Qf8,Neg5,h6,Ne6,Rxe6,Rxe6,Bxe6,Bxg6,Bd5,Nh4,Qf6,g3,fxg3,fxg3,Qg5,Kh2,Rf8,Re1,Qf6,Re2,Qf1,Be4,Bxe4,Qxe4,Rf2+,Rxf2,Qxf2+,Kh1,Qf7,Nf5,Kg8,Qg4,Ne7', 'Nxh6+,Kf8,Nxf7', 'https://lichess.org/training/sQLrO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqLUd', 'Rapid', 'ActiveBlack', 1924, 'lenaempress', 2014, 'e4,e5,d3,Nc6,Nc3,a6,g3,b5,Bg2,Nf6,Nge2,Bb7,O-O,Bd6,h3,h6,f4,Bc5+,Kh2,h5,f5,Ng4+,Kh1,Ra7,a3,Nf2+,Rxf2,Bxf2,Nd5,Ne7,f6,Nxd5,fxg7,Rg8,exd5,Rxg7,Qf1,Bc5,Nc3,Qe7,Ne4,Rg6,h4,c6,d6,Bxd6,Bg5,Qe6,Bh3,Qd5,Bg2,Be7,Nf6+,Rxf6,Bxd5', 'Rxf1+,Rxf1,cxd5', 'https://lichess.org/training/sqLUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQmUq', 'Blitz', 'StockfishXIII', 1543, 'Tirbing', 1516, 'e4,e5,d4,Nf6,dxe5,Nxe4,Qe2,Nc5,Nf3,Be7,Qd1,O-O,Bc4,Nc6,Nc3,Na5,Bb3,Naxb3,axb3,f6,b4,Ne6,O-O,fxe5,Nxe5,Bd6,f4,Bxb4,Nd5,Bd6,Nd3,c6,Ne3,Nxf4,Nxf4,Bxf4,Ng4,Qb6+,Kh1,Bxc1,Rxf8+,Kxf8,Qf3+,Kg8,Rxc1,d5,Rf1,Bxg4', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/SQmUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqmz0', 'Rapid', 'aleko73', 1741, 'ayems', 1695, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,Bg5,f5,Bb5+,Bd7,Bxd7+,Qxd7,Bxe7,Bxe7,exf5,Qxf5,O-O,O-O-O,Nc3,h5,Qe2,h4,Nb5,h3,g3,e4,Nfd4,Qe5,Nxa7+,Kb8,Qb5,Qxd4', 'Nc6+,Kc8,Nxd4', 'https://lichess.org/training/sqmz0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQoEL', 'Rapid', 'rezae1373', 1975, 'shervin_1390', 1938, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,Ne7,O-O,O-O,c3,a6,Ng5,Ng6,Ndf3,h6,Nxe6,fxe6,Qxg6,Re8,Qd3,Nd7,Nd2,Qb6,Rab1,Qd8,f4,Rf8,f5,Qe7,Rf3,c5,Rbf1,cxd4,cxd4,exf5,Rxf5,Rfc8,Rf7,Qxf7,Rxf7,Kxf7,Qf5+,Ke7,e6', 'Rc1+,Nf1,Rf8', 'https://lichess.org/training/SQoEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqOLb', 'Blitz', 'wardaddy02', 2216, 'bobalmighty', 2225, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Be3,Nc6,d5,Ne5,f4,Ned7,g4,e6,g5,Nh5,Be2,Ng3,Rh2,Nxe2,Ngxe2,exd5,cxd5,Re8,Qd3,a5,O-O-O,b6,Bd4,Ba6,Qg3,Nc5,Bxg7,Kxg7,f5,Nxe4,f6+,Kh8,Qh4,Nxc3,Qh6,Nxe2+,Rxe2,Rg8,Re4,Qf8', 'Qxh7+,Kxh7,Rh4+,Qh6,Rxh6#', 'https://lichess.org/training/sqOLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqOWO', 'Blitz', 'jrgoetz111', 1868, 'guty', 2098, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,c4,Nf6,Nc3,Bb4,Bd2,O-O,Bd3,d5,exd5,exd5,cxd5,Re8+,Be2,Ba6,Be3,Bxe2,Qxe2,Nxd5,O-O,Nxe3,fxe3,Qb6,Rf3,Re7,Kh1,Rae8,Re1,Qa5,Qd3,Bxc3,bxc3,Qxa2,Rg3,g6,h3,Re5,Rf3,Qe6,Qa6,Qd7,Ref1,R8e7,Qe2,a5,Qa2,R5e6,Qxa5,Rxe3,Rxe3,Rxe3,Qc5,Qe6,Qd4,Re5,Qd8+,Kg7,Qd4,c5,Qg1,Qc4,Qf2,f5,Rd1,Qe2,Rd7+,Kf6', 'Qh4+,Ke6,Qe7#', 'https://lichess.org/training/sqOWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQoX1', 'Rapid', 'GabrielTucumano', 2034, 'NigelBchilamba', 2074, 'd4,c6,Bf4,d5,e3,Bf5,c4,e6,Qb3,Qc8,Nc3,Nf6,h3,Nbd7,Nf3,a5,cxd5,exd5,Be2,Be7,O-O,O-O,Rac1,Bb4,a3,Bxc3,Rxc3,a4,Qd1,Ne4,Rc1,Nb6,Ne5,f6,Nd3,Qd8,f3,Nd6,Nc5,Nbc4,Bxc4,Nxc4,e4,Bc8,Nxa4,g5,Bg3,Ne3,Qb3,Nxf1,Kxf1,Kg7,exd5,cxd5,Nb6,Be6,Nxa8,Qxa8,Rc7+,Rf7,Qxb7', 'Qxb7,Rxb7,Rxb7', 'https://lichess.org/training/SQoX1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sQpjL', 'Rapid', 'AdAJao', 2035, 'borkarbc1951', 1941, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,Bd3,Bxd3,Qxd3,Be7,O-O,Nf6,Ng5,O-O,Nh5,h6', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/sQpjL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SqpXU', 'Rapid', 'monica23', 1823, 'stretton', 1803, 'e4,c5,Nf3,Nc6,Bc4,d6,c3,Nf6,d3,e6,O-O,Be7,d4,cxd4,cxd4,Nxe4,Re1,Nf6,d5,exd5,Bxd5,Nxd5,Qxd5,O-O,Nc3,Be6,Qe4,a6,a3,Bf6,Be3,Bxc3,bxc3,d5,Qd3,f6,a4,Ne5,Nxe5,fxe5,Bc5,e4,Qg3,Rf7,Rad1,Qf6,Bd4,Qh6,Re3,Raf8,Rf1,Rf5,Qd6,Qg6', 'Rg3,Rg5,Rxg5,Qxg5,Qxe6+', 'https://lichess.org/training/SqpXU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sQRbT', 'Blitz', 'manager564839', 2021, 'tebasileschach', 2077, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,Nf6,Nc3,O-O,Be2,d6,O-O,Bd7,Rc1,Nxd4,Bxd4,Bc6,f3,a5,Qd2,Nd7,Bxg7,Kxg7,Kh1,Nc5,f4,f6,f5,Nxe4,Nxe4,Bxe4,fxg6,hxg6,Bf3,Bxf3,Rxf3,Rh8,Qd5,Qd7,Re1,Rh5,Qd3,Rah8,h3,g5,Ree3,g4,Rg3,Kf7,Kg1,gxh3,gxh3,Qc6', 'Qg6+,Kf8,Qg7+,Ke8,Qxe7#', 'https://lichess.org/training/sQRbT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQrfN', 'Rapid', 'Manivenkat', 1759, 'souravGH', 1807, 'e4,e5,Bc4,Nf6,d3,h6,a3,d5,exd5,Nxd5,Qf3,c6,Ba2,Be7,Bd2,O-O,h4,Nf6,Bg5,Bg4,Qg3,hxg5,hxg5,Nbd7,f3,Nh5,Qh2,Bxg5,fxg4,Bh4+', 'Qxh4,Qxh4+,Rxh4', 'https://lichess.org/training/SQrfN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQrZD', 'Rapid', 'ManOnHorse', 1872, 'ImRedskin', 1831, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Be2,O-O,h4,d5,f3,dxe4,fxe4,Nxe4,Nxe4,Nxd4,Bxd4,Qxd4,Qxd4,Bxd4,O-O-O,Bg7,h5,Bf5,Ng3,Be6,hxg6,fxg6,Kb1,Rf2,Bf3,Bf5,Ne4,Bxe4,Bxe4,Rc8,Rd7,Re2,Rxe7,Rd2,Rxb7,Re2,Bd5+,Kh8,c4,h5,Rf1,Rf8,Rxf8+,Bxf8,Rxa7,Bg7,b3,Re1+,Kc2,Re2+,Kd3,Rf2,Ke3,Rb2,c5,Bf8,c6,Bc5+,Ke4,Bxa7,c7,Rc2', 'Bc4,Rxc4+,bxc4', 'https://lichess.org/training/SQrZD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqSTx', 'Rapid', 'flowash', 1941, 'oli36', 1940, 'e4,c5,Nc3,e6,Nf3,d5,exd5,exd5,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nxd5,Nxd4,Bxd7+,Qxd7,Qxd4,Rd8,c4,Bb4+,Bd2,Bxd2+,Qxd2,Ne7,O-O-O,O-O,Rhe1,Nxd5,cxd5,Rc8+,Kb1,Qf5+,Ka1,Rc2,Qb4,Qxf2,d6,a5,Qb5,a4,d7,a3,bxa3', 'Rxa2+,Kb1,Qc2#', 'https://lichess.org/training/sqSTx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sQtHC', 'Rapid', 'MALENCHU2', 1842, 'Sagafi', 1689, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,Bg4,dxe5,dxe5,Nc3,Qxd1+,Nxd1,O-O-O,Be3,f6,Nc3,Bb4,Bd2,Bxf3,gxf3,Ne7,O-O-O,Bc5,Na4,Bxf2,Rhf1,Bb6,f4,Rd4,Nxb6+,axb6,fxe5,fxe5,Bg5,Ng6,Rxd4,exd4,Rd1,c5,b4,Re8,bxc5,bxc5,Re1,Re5,a4,Rxg5,a5,Kb7,Kb2,c4,Ka3,Rxa5+,Kb4,Kb6,Kxc4,Ra4+,Kd5,c6+,Kd6,Rc4,Rb1+,Ka7,Kc7,Ka8', 'Ra1+,Ra4,Rxa4#', 'https://lichess.org/training/sQtHC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sQu3j', 'Classical', 'mehmetkuzey', 1713, 'JoniKerk', 1618, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Be6,Bxe6,fxe6,O-O,h6,f4,c5,Qa4+,Qd7,Qxd7+,Kxd7,f5,e5,Nc3,Nf6,Be3,Rc8,Rad1,a6,Na4,Rc6,Nxc5+,Kc8,Nb3,Rxc2,Rc1,Rxc1,Rxc1+,Kb8,Nd2,Be7,Bb6,Rc8', 'Ba7+,Kxa7,Rxc8', 'https://lichess.org/training/sQu3j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQvac', 'Blitz', 'rasool78', 2277, 'FM warredw', 2245, 'e4,c5,Nc3,a6,g3,b5,Bg2,Bb7,d3,e6,Nge2,Nf6,O-O,d6,h3,Be7,g4,O-O,Ng3,Nc6,f4,b4,Nce2,d5,g5,Ne8,e5,Nd4,Nxd4,cxd4,Rf2,a5,Qg4,g6,Bd2,Rc8,Be1,a4,b3,axb3,axb3,Ra8,Rc1,Ng7,h4,Ra2,h5,Qa5,h6,Ne8,Ne2,Bc5,Rf1,Nc7,Bf2,Nb5,Qh4,Ra8,f5,exf5,Nxd4,Nxd4,Bxd4,Qb6,Bxc5,Qxc5+,d4,Qc3,Qf2,Rc8,Qf4,Rxc2,Rxc2,Qxc2,e6,Qc7,exf7+,Kxf7,Qd2,Qc3,Qf4,Re8,Rc1,Qe3+', 'Qxe3,Rxe3,Rc7+', 'https://lichess.org/training/SQvac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SqvE9', 'Rapid', 'RonisCarlosAS96', 1717, 'vg62', 1706, 'd4,d5,Bf4,Nc6,Nf3,h6,e3,a6,c4,Bg4,h4,e6,c5,Nf6,Bd3,b5,cxb6,cxb6,O-O,b5,Nbd2,Nb4,Be2,Rc8,a3,Nc6,Rc1,Bd6,Bxd6,Qxd6,Ne5,Bf5,Ndf3,O-O,Bd3,Ne4,Bxe4,Bxe4,Qe2,f6,Nxc6,Rxc6,Nd2,Rfc8,Rxc6,Rxc6,Nb3,Rc2,Qh5,Rxb2,Nc5,Bf5,g4,Be4,Qe8+,Kh7,Nxe6,Bg6', 'Nf8+,Qxf8,Qxf8', 'https://lichess.org/training/SqvE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SqVM9', 'Blitz', 'PaaniUbalRahaTha', 1796, 'J4Test', 1776, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,a6,a4,e6,e3,Be7,Nf3,Ne4,Bxe7,Qxe7,Qc2,f5,Bd3,O-O,c5,Rf6,a5,Rg6,O-O,Nd7,b4,Ndf6,Ne5,Rh6,h3,Ng4,hxg4', 'Qh4,f3,Qh1#', 'https://lichess.org/training/SqVM9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SQWvw', 'Classical', 'feniiiks', 1679, 'COMPAC', 1679, 'e4,e5,Nf3,Nc6,d4,Bd6,d5,Nce7,Nc3,b6,Bg5,Nf6,Bxf6,gxf6,Nb5,Ng6,Be2,Nf4,Nh4,Nxe2,Qxe2,Ba6,a4,Bxb5,Qxb5,Qe7,Nf5,Qf8,c4', 'Bb4+,Ke2,a6,Qxb4,Qxb4', 'https://lichess.org/training/SQWvw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqXds', 'Rapid', 'PRATIPALSINH49', 1713, 'vikramsoni', 1687, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bg4,Nbd2,Ne7,h3,Bh5,g4,Bg6,Bxg6,hxg6,c4,Na6,c5,Qa5,O-O,Rxh3,Kg2,Rh8,a3,O-O-O,Nb3,Qc7,Bd2,f6,Bf4,g5,Bg3,Qd7,Re1,f5,Nxg5,Qe8,Nxe6,Rd7,Rh1,Rxh1,Qxh1,fxg4,Qh4', 'Nf5,Qxg4,Qxe6', 'https://lichess.org/training/sqXds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sqytk', 'Rapid', 'ARAFA779', 1627, 'mdkrk', 1609, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,h6,Nc3,Be7,e5,f6,d4,cxd4,Nxd4,fxe5,Qh5+,Kf8,Nxc6,dxc6,Qxe5,Bf6,Qf4,g5,Qe4,Qe7,O-O,b5,Bb3,Bb7,Qg6,h5,Ne4', 'Rh6,Qxh6+,Nxh6', 'https://lichess.org/training/sqytk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sR0FE', 'Classical', 'SaraceniWarrior', 2086, 'thepins', 1906, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,O-O,Ng8,Nc3,c6,Re1+,Ne7,h3,O-O,Ng5,Bf5,Bxf5,Nxf5,Qh5,h6,Nf3,Qf6,Ne5,Nxd4,Ng4,Qg6,Qxg6,fxg6,Ne3,Nd7,Ne2,Nxe2+,Rxe2,Rae8,Kf1,Bc5,Bd2,Re4,Rae1,Nf6,f3,Nh5,Kg1,Ree8,Kh2,Nf4,Rf2,Bd6,g3,Nh5,f4,Bc5,Rfe2,Nf6,Ng4,Ne4,Bc3,Nf6', 'Nxf6+,gxf6,Rxe8', 'https://lichess.org/training/sR0FE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sr0i5', 'Rapid', 'Battlecruiser', 1606, 'Auron90', 1621, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Bxf7+,Kxf7,Qd5+,Kf8,Qxc5+,d6,Qxc3,Nf6,Bg5,h6,Bxf6,gxf6,O-O,Rg8,Kh1,Ne5,Nbd2,Bg4,h3,Nxf3,Nxf3,Be6,Nd4,Qc8,f3,Bxh3,Rf2,Bd7,Nf5,Bxf5', 'Qxf6+,Ke8,exf5', 'https://lichess.org/training/Sr0i5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SR0RI', 'Blitz', 'h1ppopotamus', 2495, 'NM VitorBronson', 2396, 'Nf3,Nf6,g3,b5,Bg2,Bb7,O-O,c5,a4,b4,b3,e6,Bb2,Be7,d3,O-O,Nbd2,d5,e4,Nc6,Re1,Rc8,e5,Nd7,h4,Na5,Rc1,c4,dxc4,dxc4,Bd4,cxb3,cxb3,Rxc1,Qxc1,Bd5,Qb1,Nc5,Bxc5,Bxc5,Rd1,Qb6,Rf1,h6,g4,Bb7,g5,h5,g6,f6,Ne4,fxe5,Nxc5,Qxc5,Qd1,Rf4,Qd8+,Qf8,Qxf8+,Kxf8,Nxe5,Bxg2,Kxg2,Nxb3,Kg3,Re4,f4,Nd4,Rd1,Nf5+,Kf3,Rd4,Rc1,Nxh4+,Ke2,Nf5,Rc8+,Ke7,Rc7+,Kd6,Rxa7,Rxf4,Nd3,Re4+,Kd2,Rg4,Ra6+,Kd5,Ra8,Rxg6', 'Nf4+,Kc6,Nxg6', 'https://lichess.org/training/SR0RI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sR1Ae', 'Rapid', 'mohammad2018', 1863, 'lachakaleak', 1882, 'd4,d5,Bf4,Nf6,e3,e6,a3,Be7,Nc3,a6,Bd3,Bd7,Nf3,b5,h3,O-O,O-O,Nc6,Ne5,Rb8,Nxc6,Bxc6,b4,Bb7,Re1,c6,e4,dxe4,Nxe4,Nd5,Bxb8,Qxb8,Nc5,Bc8,c4,bxc4,Bxc4,Nf6,Nxa6,Qd6,Nc5,Bd8,Be2,Bc7,g3,e5,dxe5,Qxe5,Bg4,Qg5,Bxc8,Rxc8,Ne4,Nxe4,Rxe4,h6,Rg4,Qf5,Qd4,Be5,Qe4', 'Qxe4,Rxe4,Bxa1', 'https://lichess.org/training/sR1Ae');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sr1Zb', 'Rapid', 'ynikitin', 2101, 'KarelHot2008', 2002, 'e4,c5,Nc3,Nc6,d3,Nf6,g3,e6,Bg2,a6,Nge2,Qc7,O-O,b6,Bf4,e5,Bg5,Be7,Bxf6,Bxf6,Nd5,Qd8,c3,O-O,f4,Be7,f5,f6,g4,Rb8,b3,Bb7,Qd2,Kh8,h4,Na7,Rf3,Bxd5,exd5,Nb5,a4,Nd6,c4,Qe8,Nc3,Qf7,Raf1,Rbe8,Rh3,Bd8,Ne4,Nxe4,Bxe4,Rg8,g5,fxg5', 'hxg5,Bxg5,Qxg5', 'https://lichess.org/training/sr1Zb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sR1Zf', 'Blitz', 'PIELIEME', 2084, 'ASKCHESS', 2114, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,g3,Nge7,Bg5,h6,Bxe7,Bxe7,Bg2,O-O,O-O,Be6,Nbd2,Qd7,a3,a5,Qc2,Rfd8,Rad1,d3,exd3,Qxd3,Qxd3,Rxd3,Ne4,Bxc4,Rxd3,Bxd3,Re1,Rd8,Nc3,Bc4,h3,b6,Bf1,Bxf1,Kxf1,Nd4,Nxd4,Rxd4,Re2,c6,f4,b5,Re4,Rd3,Kf2,Bc5+,Kg2,Bd4,Ne2,Bxb2,e6,fxe6,Rxe6,c5,f5,c4,Nf4,Rd7,Ng6,c3', 'Re8+,Kf7,Rf8#', 'https://lichess.org/training/sR1Zf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SR2BA', 'Classical', 'Alexyz', 1761, 'Buffaboy', 1923, 'e4,d5,exd5,c6,dxc6,Nxc6,Nf3,Nf6,Bb5,Bd7,O-O,a6,Be2,e6,d4,Bd6,Bg5,h6,Bh4,Qc7,c4,g5,Bg3,Bf4,Nc3,O-O,Bxf4,Qxf4,g3,Qd6,c5,Qc7,a3,Nd5,Qd3,Rad8,Ne4,Nce7,Ne5,Bb5,Qd2,Bxe2,Qxe2,Kg7,Rac1,f6,Nd3,Nf5,Rfe1,Nxd4,Qg4', 'f5,Qd1,fxe4', 'https://lichess.org/training/SR2BA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sR3rY', 'Rapid', 'farmanimh', 1974, 'macfort', 1941, 'Nf3,d5,g3,e6,Bg2,c6,d4,Nf6,Bg5,Be7,O-O,O-O,c4,Ne4,Bxe7,Qxe7,Ne5,Nd6,c5,Nc4,Nxc4,dxc4,Qc2,Rd8,Qxc4,b5,Qc3,Na6,Na3', 'b4,Qb3,bxa3', 'https://lichess.org/training/sR3rY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SR5V1', 'Classical', 'NoAh1111', 1944, 'Viktor2021', 1989, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,Ne4,Nxe4,dxe4,e3,Bg7,Ne2,c5,Rb1,cxd4,Nxd4', 'Qa5+,Qd2,Qxg5', 'https://lichess.org/training/SR5V1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sr8Kf', 'Bullet', 'm_ink', 1848, 'alltogether', 1803, 'e4,a5,a3,c6,Bc4,e6,f4,b5,Ba2,d5,exd5,cxd5,Nf3,Qb6,d4,b4,axb4,axb4,c3,bxc3,Nxc3,Bb4,O-O,Bd7,Ne5,Ne7,Re1,Bxc3,bxc3,Ra7,Rb1,Qc7,Nxd7,Nxd7,Bb3,O-O,Qc2,Nb6,Rf1,Nc4,f5,Nxf5,Rxf5,exf5,Qxf5,Qe7,Bg5,f6,Qxd5+,Kh8,Bxf6,Qxf6,Bxc4,Qf2+,Kh1,Ra2,Rg1', 'Qxg1+,Kxg1,Ra1+,Bf1,Raxf1#', 'https://lichess.org/training/sr8Kf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('srAwg', 'Rapid', 'richdtaylor', 1683, 'snooz', 1688, 'e4,e5,Nf3,d6,Bc4,Be6,Bb3,Nc6,c3,Nf6,d3,Qd7,Nbd2,Be7,O-O,Nh5,Re1,Nf4,Nf1,Bg4,h3,Bh5,Ng3,Bxf3,Qxf3,O-O,Bxf4,exf4,Qxf4,h6,Nf5,Bg5,Qg4,Ne5,Qg3,g6,h4,Bf6,Nxh6+,Kh7,d4,Kxh6,dxe5,Bxe5,Qg5+,Kh7,f4,f6,Qg3,Bxf4,Qxf4,Kg7,Qg3,Rh8,Bc2,Rh6,Rf1,Rah8,Rf4,g5,Raf1,Rxh4,Rxh4,Rxh4,Qf2,Qf7,Qxa7,Qh5,Kf2,Rf4+,Ke1,Qh4+,Ke2,Qg4+,Rf3,Qxg2+,Rf2,Qg4+,Kf1,Rxf2+,Qxf2,Qe6,Ke2,Qxa2,Kd3,Qxb2,Qd4,Qb5+,c4,Qd7,c5,Qh3+,Kc4,Qg2,Ba4,Qa2+,Bb3,Qa6+,Kc3,dxc5,Qd7+,Kg6,Qxc7,Qa1+,Kc4', 'Qd4+,Kb5,Qb4#', 'https://lichess.org/training/srAwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('srbor', 'Blitz', 'TheGayCommunity', 1866, 'yoshico', 1821, 'Nf3,d6,e4,e5,d4,f6,Bc4,Bg4,Nc3,Nd7,Ng5,Bxd1', 'Bf7+,Ke7,Nd5#', 'https://lichess.org/training/srbor');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Srdal', 'Rapid', 'Harvey_Spectr', 2015, 'Revolutionman', 2011, 'd4,g6,e4,Bg7,c3,d6,f4,c5,dxc5,Nf6,e5,Bg4,Be2,Bxe2,Nxe2,Nh5,cxd6,exd6,O-O,Bh6,g4,Nxf4,Bxf4,Qh4,Bxh6,Qxh6,Ng3,dxe5,Qf3,O-O,Qxb7,Qe3+,Kh1,Qb6,Qxa8,Nc6,Qxc6,Qxc6+,Kg1,Qb6+,Kh1,Qxb2,Na3,Qxa3,Rf2,Qxc3,Raf1,Qd4,h3,e4,Rf4,Qd3,Nxe4,Qxh3+,Kg1,Qe3+,Kh2,Qe2+,R1f2,Qa6,Kg3,Qc6,g5,Qd5,Rh2,Kg7', 'Rxh7+,Kxh7,Nf6+,Kg7,Nxd5', 'https://lichess.org/training/Srdal');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sRepr', 'Rapid', 'chess123boggle', 2075, 'Adan_Simeulue', 1976, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Nxc3,Nf6,Bc4,Be7,e5,Ng4,Qe2,d6,Bb5,O-O,Bxc6,bxc6,h3,Nxe5,Nxe5,dxe5,Qxe5,Re8,O-O,Bf6,Qa5,Re5,Qa4,Bb7,Rd1,Qe7,Bf4,Rf5,Re1,Qc5,Ne4,Rxf4,Nxc5,Rxa4,Nxa4,Ba6,Rad1,Bb5,Nc3,Bc4,Rd2,Rb8,Rd7,h6,Rxc7,Rxb2,Ne4,Be5,Rxc6,Bd5,Rc8+,Kh7,Rc5,Bxe4,Rxe5,Bd3,Ra5,a6,Re7,Bc4,Ra7,Rb1+,Kh2,Rb2,Kg3,Rd2,Ra3,Rd6,h4,Rg6+,Kh3,h5,g3,Rf6,Kg2,Bd5+,f3,Bc4,Ra8,Rd6,Ra7,Rd2+,Kg1,Rd1+,Kh2,Rd2+,Kh3,Be6+,g4,hxg4+,fxg4,Rd1,h5,Rg1,Kh4', 'Rxg4+,Kh3,Ra4+,Kg3,Rxa3+', 'https://lichess.org/training/sRepr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sRFj7', 'Rapid', 'davidengelberts', 1832, 'FrankShore', 1801, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Qc7,Nc3,Nc6,g3,Nf6,Bf4,e5,Nxc6,exf4,Nd4,fxg3,fxg3,Bd6,Nf5,Be5,Nxg7+,Kf8,Nf5,Rg8,Bg2,d6,O-O,Bxf5,exf5,Qxc4,Nd5,Nxd5,Bxd5', 'Bd4+,Kg2,Qxd5+', 'https://lichess.org/training/sRFj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('srFLG', 'Rapid', 'NTDBN252001hup', 1756, 'franpite', 1814, 'e4,e5,Nf3,Nc6,Be2,Nf6,d3,h6,O-O,d5,exd5,Nxd5,h3,Bc5,Re1,b6,a3,Bb7,b4,Bd4,c3,Nxc3,Nxc3,Bxc3,Ra2,Bxe1,Qxe1,Nd4,Nxd4,Qd5,Nf3,Qxa2,Nxe5,Qd5', 'Bf3,Qe6,Bxb7', 'https://lichess.org/training/srFLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Srfpy', 'Rapid', 'valt20', 2131, 'karzin1962', 2167, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Ne2,Bg4,f3,Bh5,O-O,Bg6,c3,Nc6,Bf4,e6,Re1,Bd6,Bxd6,Qxd6,Na3,a6,Nc2,O-O,Qd2,Bxd3,Qxd3,Rac8,Ng3,Rfe8,Re2,Ne7,Rae1,Ng6,Qd2,b5,Nb4,a5,Nd3,Red8,Ne5,b4,f4,bxc3,bxc3,Qc7,f5,exf5,Nxf5,Nxe5,Rxe5,Ne4,R1xe4,dxe4,Ne7+,Kf8,Nxc8,Rxc8,Qg5,f6,Qf5,Qxc3,Rxe4,Qc1+,Kf2,Rc2+,Kg3,Qa3+,Kh4,Rxg2', 'Qc8+,Kf7,Qe8#', 'https://lichess.org/training/Srfpy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SrfY8', 'Rapid', 'zenoui', 1800, 'Am3d', 1839, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,dxc4,e3,b5,a4,b4,Na2,a5,Bxc4,Ba6,Qd3,Qb6,Bxa6,Nxa6,b3,Nd5,O-O,e6,Bb2,Be7,Rac1,O-O,Ne5,Rfd8,Nxc6,Rd7,Nxe7+,Rxe7,Rc2,Rc7,Rfc1,Rac8,Rxc7,Rxc7,Rxc7,Naxc7,Qc4,Qa6,Qxa6,Nxa6,Kf1,f5,Ke2,Kf7,g3,h5,Kd3,Ke7,Nc1,g6,Ne2,Kd6,Nf4,Nxf4+,gxf4,Nc7,e4,Kc6,Kc4', 'fxe4,d5+,exd5+', 'https://lichess.org/training/SrfY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Srgd1', 'Rapid', 'MatheusOrnilo', 1786, 'abrody', 1807, 'c4,e5,g3,Nc6,Bg2,Nf6,Nc3,Bc5,Nf3,h6,O-O,d6,a3,O-O,b4,Bd4,Nxd4,Nxd4,e3,Ne6,d4,c6,dxe5,dxe5,Qxd8,Rxd8,Bb2,Ng5,Rfd1,Be6,Rxd8+,Rxd8,c5,Rd2,Na4,Ng4,Rf1,Bb3,Bc1,Rd1,Rxd1,Bxd1,Nc3,Bc2,Bb2,e4,h4,Nf3+,Bxf3,exf3,Na2,g5,hxg5,hxg5,Nc1,f5,Bc3,Kf7,Kf1,Ke6,Ke1,Be4,Kd2,Nxf2,Nb3,Nh3,Nd4+,Kd5,Nxf3,Bxf3,Bf6,g4,Kc3,Ke4,Bd4,Nf2,a4,Nd1+,Kd2,Nf2,b5,cxb5,axb5,Nh1', 'c6,bxc6,bxc6,f4,c7', 'https://lichess.org/training/Srgd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SRGoT', 'Rapid', 'fxhasthemovies', 1881, 'JovanKralj', 1888, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,cxd6,Nf3,g6,Be2,Bg7,O-O,O-O,Be3,Bf5,Nc3,Nc6,d5,Ne5,Nxe5,Bxe5,Qd2,Rc8,Bxb6,Qxb6,Rac1,Qd8,f4,Bg7,g4,Bd7,f5,e6,Bd3,exd5,Nxd5,Bc6', 'f6,Bxd5,fxg7,Re8,cxd5', 'https://lichess.org/training/SRGoT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sRhhh', 'Rapid', 'fishstone', 2005, 'ynikitin', 2093, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,d4,e6,c3,Bd6,Qa4,Nf6,Na3,a6,Nc2', 'b5,Qb3,Na5', 'https://lichess.org/training/sRhhh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SrhIp', 'Blitz', 'sushrutpalepu96', 1670, 'costinz', 1696, 'e4,Nc6,Nf3,b6,Nc3,Bb7,Bc4,d6,d3,Qd7,Be3,O-O-O,Qd2,e5,Bb5,f5,exf5,Qxf5,a4,Nf6,O-O,Ng4,Bxc6,Bxc6,a5,Bxf3,gxf3,Qxf3,axb6,Qh3,Rfb1,Qxh2+,Kf1,Qh1+,Ke2,Qb7,bxa7,Qa8,b4,Be7,b5,Bh4,Nd5,Qxd5,a8=Q+,Kd7,Qxd5,Rhf8,b6,Bxf2,bxc7,Bxe3,Qb5+,Ke6,cxd8=Q,Rf2+,Ke1', 'Bxd2+,Kd1,Ne3#', 'https://lichess.org/training/SrhIp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sRiNU', 'Rapid', 'capitan_huk', 2769, 'tdlafsungam', 2185, 'c4,c6,g3,d5,Bg2,Nf6,Nf3,Bf5,cxd5,cxd5,Qb3,Qb6,Qxb6,axb6,Nc3,e6,d3,Nc6,Nb5,Kd7,Nfd4,Bg6,f4,Bc5,Be3,Ra4,Nxc6,Bxe3,Ne5+,Ke7,a3,Rc8,Nc3,Ra6,Nd1,Bd4,Kd2,Bxe5,fxe5,Ng4,d4,Rc2+,Ke1,Ra4,b4,Ra8,Bf3,h5,Bxg4,hxg4,Ne3,Rc3,Kd2,Rcxa3,Rxa3,Rxa3,Nxg4,Rb3,Nf2,Rxb4,Ke3,b5,h4,Rb3+,Kf4,b4,g4,Rc3,h5,Bh7,g5,b3,e4,b2,Rb1,Rc2,Nd1,Bxe4,Rxb2,Rxb2,Nxb2,b5,Ke3,b4,Na4,Kd7', 'Nc5+,Ke8,Nxe4,dxe4,Kxe4,b3,Kd3', 'https://lichess.org/training/sRiNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SRiz4', 'Rapid', 'DrSchaken', 1906, 'ryba170a', 1921, 'b3,Nf6,Bb2,g6,Bxf6,exf6,c4,Bg7,Nc3,O-O,e3,f5,Qc2,Nc6,a3,Re8,Nf3,d6,h4,Ne5,Nxe5,dxe5,O-O-O,c6,h5,b5,cxb5,cxb5,Bxb5,Bd7,hxg6,hxg6,Bc4,Qa5,a4,e4,f3,Be6,Bxe6,Rxe6,fxe4,fxe4,Nxe4,Qb4,d4,Qa3+,Kd2,Rae8,Rh4,Qb4+,Ke2,f5,Qc5,Qxc5,Nxc5,Rxe3+,Kd2,Re2+,Kc3,Rxg2,Rdh1,Rg3+,Kc4,Rd8,Ne6,Rc8+,Kd5,Re3,Nxg7,Kxg7,Rh7+,Kf6,Rxa7,Rxb3,Rhh7,Rd8+,Kc4,Ra3,d5,Ra1,a5,Rc1+,Kb5,Rxd5+,Kb4,Rb1+,Kc3,Rdb5,Ra6+,Kg5,Rg7,Rc1+,Kd2,Rbc5,Raxg6+,Kf4,a6,R1c2+,Kd3,R5c3+,Kd4,Rc4+,Kd5,Rc5+,Kd6,Rc6+,Ke7,Rxg6,Rxg6,Ra2,Rf6,Kg5,Kf7,f4,Rg6+,Kf5,Rf6+,Ke4,Re6+,Kf3,Ke7,Kf2,Kd7,f3,Kc7,Kf1,Kb7,f2,a7,Rb2+,Kc6,Ra2,Kb7,Kg1,a8=Q', 'Rxa8,Kxa8,f1=Q', 'https://lichess.org/training/SRiz4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('srjak', 'Rapid', 'jamba2021', 2001, 'Noob_No_1', 1975, 'd4,e5,e3,exd4,exd4,Nf6,Nf3,d5,Bg5,Bg4,Be2,Qe7,O-O,h6,Bf4,Qb4,b3,Bd6,c3,Qb6,Be3,O-O,Ne5,Bxe2,Qxe2,Re8,Nd2,Ne4,Nxe4,dxe4,Qg4,Bxe5,dxe5,Qe6,Qxe4,Nc6,Bd4,f6,Qg6,Nxe5,Qg3,Qg4', 'Bxe5,Qxg3,Bxg3', 'https://lichess.org/training/srjak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SrjxT', 'Rapid', 'val3rian', 1818, 'ValerikD', 1737, 'e4,c6,d4,d6,Nc3,Nf6,Bg5,h6,Bh4,b5,Bd3,Ba6,Nf3,e6,e5,dxe5,dxe5,b4,exf6,bxc3', 'fxg7,Bxg7,Bxd8', 'https://lichess.org/training/SrjxT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('srlsd', 'Rapid', 'TheCypriot', 2401, 'piari1973', 2375, 'c4,Nf6,g3,e6,Bg2,d5,Nf3,c6,Qc2,Be7,O-O,Nbd7,d4,O-O,Nbd2,b6,e4,Ba6,e5,Ne8,Rd1,Rc8,b3,f6,Bb2,fxe5,dxe5,Qc7,Rac1,g6,Qb1,c5,h4,d4,Re1,Bb7,Ne4,Rxf3,Bxf3,Nxe5,Bg2,Bxe4,Qxe4,Bd6,Rcd1,Nf6,Qb7,Qxb7,Bxb7,Rc7,Bg2,Kf7,Bc1,Neg4,f3,Bxg3,fxg4,Bxe1,Rxe1,Nxg4,Bf4,Re7,Be5,Nxe5,Rxe5,Kf6,Re1,h6,Kf2,e5,Kf3,g5,h5,Ke6,Bh3+,Kd6,Ke4,a6,Bf5,b5,Rc1,Rb7,Bg6,bxc4,Rxc4,Rb8,Ra4,Rb6,Bf7,g4,Bc4,g3,Kf3,e4+,Kxg3,Ke5,Rxa6,Rxa6,Bxa6,d3,Kf2,Kd4,Ke1,e3,a4,Kc3,a5,e2,Bb5', 'd2+,Kxe2,Kc2', 'https://lichess.org/training/srlsd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sRm2G', 'Blitz', 'Yeslem', 2070, 'sicilian345', 2047, 'e4,e6,d4,d5,Nd2,Be7,Bd3,Nf6,e5,Nfd7,Ne2,c5,c3,Nc6,Nf3,f6,Nf4,Kf7,Ng5+,fxg5,Qh5+,g6', 'Bxg6+,hxg6,Qxg6+,Kf8,Nxe6#', 'https://lichess.org/training/sRm2G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('srM4u', 'Blitz', 'Miguel010', 1562, 'dbrooks14', 1621, 'e4,e5,Nf3,Nc6,Bc4,Nf6,c3,Nxe4,O-O,d5,Bb5,Bd6,d4,exd4,Nxd4,Bd7,Re1,O-O,Nxc6,bxc6,Bd3,Nc5,Bc2,Qh4,g3,Qf6,Qh5,h6,Be3,Rfe8,Nd2,Rab8,Nf3,Rxb2,Bg5,Rxe1+,Rxe1,hxg5', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/srM4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Srm7C', 'Blitz', 'mur2020', 2141, 'Autumnal', 2231, 'e4,e6,Nc3,d5,d4,Nf6,e5,Nfd7,Nce2,c5,c3,Nc6,f4,Qb6,Nf3,f6,Qb3,Qxb3,axb3,cxd4,cxd4,Nb4,Ra4,Be7,Nc3,Nb6,Ra5,O-O,Be2,Nd7,O-O,b6,Ra1,a5,Bd2,Ba6,Bxa6,Rxa6,Rae1,Nd3,Re2,Nxb2,exf6,Bxf6,Ne5,Bxe5,fxe5,Rxf1+,Kxf1,Ra8,Re3,Rf8+,Ke2,a4,Nxa4,Nxa4,bxa4,Ra8,Ra3,Nb8,Bb4,Nc6,Bc3,Kf7,Ra1,Kg6,g4,Kg5,Kf3,Rf8+,Kg3,Ra8,Rf1,Kg6,h4,Rxa4,h5+,Kh6,Bd2+,g5,Rf6+,Kg7,Bxg5,Nxd4', 'Bh6+,Kh8,Rf8#', 'https://lichess.org/training/Srm7C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('srOEW', 'Rapid', 'osw39', 1678, 'Rant24', 1693, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bc4,g6,O-O,Bg7,Nb3,Nf6,f3,Qc7,Be3,O-O,c3,e5,Na3,a6,Qd2,b5,Bd3,Bb7,Rad1,Rad8,Bb1,Rd7,Nc2,Rfd8,Bh6,Ne7,Bxg7,Kxg7,Ne3,d5,exd5,Nfxd5,Nxd5,Rxd5,Qe2,Rxd1,Rxd1,Rxd1+,Qxd1,f5,Qe2,Kf6,Qe3,g5,Nc1,Nd5,Qf2,Qb6,g3,Qxf2+,Kxf2,f4,gxf4,gxf4,Be4,h6,b3,Ke6', 'c4,bxc4,bxc4,Nb6,Bxb7', 'https://lichess.org/training/srOEW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sROF9', 'Blitz', 'shortsightedsid', 1642, 'colmen-black-chess', 1680, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,e6,c3,a6,Ba4,b5,Bc2,g6,d4,cxd4,cxd4,Nb8,Nc3,Bb7,Re1,Bg7,Bg5,Ne7,d5,e5,Rb1,Nd7,b4,O-O,a4,bxa4,Nxa4,h6,Bh4,Re8,b5,axb5,Rxb5,Ba6,Rb1,Rc8,Bd3,Bxd3,Qxd3,Nc5,Nxc5,Rxc5,Nd2,Qc7,Nb3,Rc3,Qb5,Rb8,Qa4,Bf8,f3,Nc8,Qe8,Nb6,Qb5,Nd7,Qa4,Nc5,Nxc5,Qxc5+,Bf2', 'Rxb1,Rxb1,Rc1+,Qd1,Rxd1+', 'https://lichess.org/training/sROF9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SRokn', 'Bullet', 'Telepuzman', 1710, 'Klassics', 1721, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nc6,Bb5,Bd7,O-O,Nf6,f4,O-O,f5,Nxd4,Bxd7,Nxc2,Qxc2,Nxd7,fxg6,hxg6,Nd5,e6,Nf4,Rc8,Qe2,a6,Rf3,Ne5,Rh3,Re8,Qf2,Ng4,Qg3,Nxe3,Qxe3,Qa5,Rf1,Qb4,Qg3,Qxe4,Qh4,Qc4', 'Qh7+,Kf8,Nxg6#', 'https://lichess.org/training/SRokn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sroXi', 'Rapid', 'ManuPRZ96', 2031, 'rumpel99', 2167, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,Nbd7,Nge2,e5,d5,a5,Qd2,b6,Bh6,Nc5,g4,Nxg4,Bxg7,Qh4+,Kd1,Nf2+,Kc2,Kxg7,Rg1,Nh3,Bxh3,Qxh3,Ng3,f5,exf5,Bxf5+,Nce4,Nxe4,fxe4,Bd7,Rae1,Rf3,Re2,Raf8,Qg5,R3f6', 'Nh5+,Kh8,Nxf6', 'https://lichess.org/training/sroXi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sRP82', 'Classical', 'iPhoneaccount', 1918, 'phantom567459', 1890, 'd3,Nf6,c3,g6,Qc2,d5,Bg5,Bg7,Nd2,c5,e4,dxe4,dxe4,O-O,Ngf3,Nc6,Bb5,Qb6,Be2,Rd8,h3,h6,Be3,e5,Nc4,Qc7,Bxc5,b6,Ba3,Bb7,O-O,a5,Rad1,b5,Ne3,b4,cxb4,axb4,Bxb4,Qb6,Bc5,Qa5,a3,Rac8,Rxd8+,Qxd8,b4,Nd4,Qa2,Nxe2+,Qxe2,Nxe4,Rd1,Qc7,Nd5', 'Bxd5,Rxd5,Nc3,Qd2,Nxd5', 'https://lichess.org/training/sRP82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Srpds', 'Rapid', 'Samuelf89', 1843, 'ozcan4504', 1810, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,g6,Be3,Bg7,Qd2,O-O,Bxh6,Ng4,Bxg7,Kxg7,h3,Nh6,O-O,Na5,Bb5,c6,Ba4,b5,Bc2,d5,Nxe5,dxe4,dxe4,Qf6,Nf3,Nc4,Qe2,Nxb2,Nbd2,Qxc3,Rfc1,Qf6,e5,Qe6,Bb3,Qe7,Rc2,Na4,Rac1,Bb7,Bxa4,bxa4,Ne4,c5,Nxc5,Bxf3,Qxf3,Rfd8,Qe3,Nf5,Qe2', 'Nd4,Qe3,Nxc2', 'https://lichess.org/training/Srpds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sRqWf', 'Rapid', 'spin76', 1620, 'Feb74', 1878, 'd4,Nf6,Bf4,d5,c4,c6,e3,Bf5,Nc3,e6,Rc1,Bd6,Bxd6,Qxd6,Nf3,Nbd7,Be2,O-O,O-O,h6,cxd5,exd5,h3,Rfe8,Nh4,Bh7,Bd3,Ne4,Nxe4,Bxe4,Nf5,Bxf5,Bxf5,Nf6,a3,Ne4,Bxe4,Rxe4,b4,a6,Rc3,Rae8,Qc1,Qe7,Re1,Rxd4,Qb2,Re4,a4,d4,Rc4,dxe3', 'Rxe4,Qxe4,Rxe3,Kf8,Rxe4', 'https://lichess.org/training/sRqWf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SrSAx', 'Blitz', 'Bhuvan1006', 1821, 'thedrunkbulldog95', 1898, 'd4,d5,Nf3,c6,Bf4,Nf6,e3,g6,c4,Bg7,h3,O-O,Nc3,Nbd7,Be2,dxc4,Bxc4,Nh5,Bh2,b5,Be2,Bb7,O-O,Rc8,b4,a6,Rc1,Nb6,Ne4,Nd5,a3,a5,Qb3,axb4,axb4,Nhf6,Nc5,Ba8,Rfe1,Nd7,Red1,Nxc5,dxc5,e6,Bd6,Re8,Bh2,Qe7,Bd6,Qb7,Ne5,Nf6,Bf3,Nd5,Nd3,Red8,Bh2,Re8,Ra1,Rcd8,Ra5,e5,Ne1,e4,Be2,Nf6,Rda1,Qe7,Bd6,Qe6,Qa2,Qf5,Nc2,Nd5,Nd4,Bxd4,exd4,Nc3,Qc2,Nxe2+,Qxe2,e3,fxe3,Bb7,Ra7,Bc8,Bf4,Re4,Qf2,Qd5,Rc7,Rde8,Raa7,Be6,Qf3,Qf5,g3,Bd5,g4,Qe6,Qf2,Bc4,Kh2,Qd5,Qd2', 'Rxf4,exf4,Re2+,Qxe2,Bxe2,Rc8+,Kg7', 'https://lichess.org/training/SrSAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('srsLI', 'Rapid', 'taramugare', 2213, 'queensgambit2020', 2132, 'e4,d6,Nf3,Bg4,Be2,Nd7,O-O,Ngf6,Nc3,Bxf3,Bxf3,Ne5,Be2,h5,d4,Ng6,f4,e5,f5,Ne7,Bg5,exd4,Qxd4,Nc6,Bb5,Be7,Qa4,O-O,Bxc6,bxc6,Qxc6,Ng4,Bxe7,Qxe7,h3,Ne3,Nd5,Qxe4', 'Nf6+,gxf6,Qxe4', 'https://lichess.org/training/srsLI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SRVPu', 'Rapid', 'Franciszek2011', 1643, 'BatmanSwid', 1823, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,Nc3,g6,d3,Bg7,Be3,O-O,Qd2,Nc6,Bh6,Nd4,Bxg7,Nxf3+,gxf3,Kxg7,Kh1,Qh3,Rg1,Qxf3+,Rg2,d5,Re1,dxe4,Nxe4,Nxe4,Rxe4,Rad8,Re3,Qf6,Reg3,Qxb2,Qe3,Qxc2,Qe5+,f6', 'Qxe7+,Rf7,Qxd8', 'https://lichess.org/training/SRVPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('srvql', 'Blitz', 'nyrez64', 1593, 'drdrunkenstein97', 1608, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Nxc6,bxc6,Bc4,d6,Qf3,Nf6,O-O,Bb7,Rd1,O-O,e5,Ne8,e6,fxe6,Bxe6+,Kh8,Qh3,c5,Bh6,Nf6,Bxg7+,Kxg7,Nd5,Nxd5,Bxd5,Bxd5,Rxd5,e6,Qxe6,Qb6,Qxd6,Qxb2,Re1,Qxc2,Re7+,Kh6,Qe5', 'Qxf2+,Kh1,Qf1#', 'https://lichess.org/training/srvql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sRxk4', 'Rapid', 'Biko155', 1693, 'Lexa_EV', 1791, 'c4,e6,Nc3,c6,g3,d5,Bg2,Nf6,cxd5,exd5,d4,Bd6,e3,O-O,Nge2,Bg4,O-O,Re8,f3,Be6,a3,Nbd7,b4,a5,b5,c5,a4,Bf8,Ba3,Rc8,Qd2,cxd4,Nxd4,Bxa3,Rxa3,Qc7,Nxe6,fxe6,Bh3,Nb6,Qd4,Rcd8,Rc1,e5,Qh4,Qc5,Ra2,Qxe3+,Kh1,Qxc1+,Kg2,Qxc3,Bf5,d4,Rf2,d3,Qh3,d2,Be6+,Kf8,f4,d1=Q,fxe5,Qce1', 'Rxf6+,gxf6,Qh6+,Ke7,Qxf6#', 'https://lichess.org/training/sRxk4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SRYdD', 'Rapid', 'xingao', 1740, 'JONES1686', 1685, 'd4,Nf6,Bf4,b6,e3,Bb7,Be2,Bxg2,Bf3,Bxh1,Bxh1,c6,Qf3,d5,c4,e6,c5,Be7,b4,O-O,Nc3,bxc5,bxc5,Qa5,Ne2,Ne4,Rc1,Nd7,Qh5,g6,Qh6,Bf6,Bxe4,dxe4,Bd6,Bg7,Qf4,Rfc8,Qxe4,Nf6,Qh4,Nd5,Kf1,Nxc3,Nxc3,Qa3,Rc2,a5,Kg2,Ra7,Ne4,Qd3,Nf6+,Bxf6,Qxf6,Qxc2,Be5,Kf8,Qg7+,Ke7,Bf6+,Ke8', 'Qg8+,Kd7,Qxf7#', 'https://lichess.org/training/SRYdD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('srynb', 'Rapid', 'Freeloader', 1921, 'Dragan58', 1853, 'e4,e5,Nf3,d6,d4,Nc6,dxe5,Bg4,exd6,Bxd6,Be2,h6,O-O,Nf6,Re1,O-O,Nc3,Re8,Bb5,Bb4,Bd2,Bxf3,gxf3,Re5,Bxc6,bxc6,Kh1,Rh5,Rg1,Qd6,f4,Rd8,Nd5,Bxd2', 'Nxf6+,Qxf6,Qxh5', 'https://lichess.org/training/srynb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sRYty', 'Blitz', 'NM El_Nica', 2299, 'soroosh20', 2332, 'e4,c5,Ke2,Nc6,c3,Nf6,d3,d5,f3,e5,Kf2,dxe4,Bg5,exd3,Bxd3,Ng4+,fxg4,Qxg5,h3,c4,Be4,Bc5+,Kf1,Qe3,Bxc6+,bxc6,Qd2,Qe4,Nf3,Be6,Qe2,Qg6,Nxe5,Qf6+,Nf3,Rd8,Nd2,O-O,Ne4,Qe7,Nxc5,Qxc5,Qf2,Qb5,Kg1,Bd5,Nd4,Qb6,Kh2,c5,Nf5,Kh8,Rad1,g6,Ne3,Be6,Qg3,Qb8,Rxd8,Rxd8,Rd1,Qxg3+,Kxg3,Rxd1,Nxd1,Kg7,Kf4,f6,g3,Kf7,h4,h6,Ne3,g5+,Ke4,Ke7,Kf3,Kd6,h5,Ke5,Nd1,f5,Nf2,fxg4+,Nxg4+', 'Bxg4+,Kxg4,Ke4', 'https://lichess.org/training/sRYty');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sS2mM', 'Classical', 'mefaisto', 1934, 'Kot-Begemot777', 1927, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Qf3,Nf6,e5,Nd5,Bxd5,cxd5,Qxd5,Qe7,Qxa8,Qxe5+,Be3,Bxe3,fxe3,Qxe3+,Kd1,O-O,Qf3,Qd4+,Nd2,Qxb2,Rb1,Qxa2,Re1,Ba6,Re7,Bc4,Qe3,Be6,Qc5,Qa4,Qxc7,Qd4,Rb8,Qg1+,Ke2,Qxg2+,Ke1,Qh1+,Kf2,Rxb8,Qxb8+,Kh7,Qb1,Qxh2+,Ke3,Qg3+,Nf3,f5,Qg1,f4+,Kd4,h5,Qxg3,fxg3,Ke4,g2,Ng1,h4,Kf3,h3,Kg3,Kh6,Re8,g5,Ra8,g4,Rxa7,Kg6,Ra1,Kf5,Rc1,Ke4,c4,Kd3,c5,Kd4,c6,dxc6,Rxc6,Kd5,Rc1,Kd6,Ne2,Ke7,Nf4,Bd7,Nd3,Kf6,Nf2,Kg5,Ne4+,Kh6,Nc3,Kh5,Ne2,Kg5,Rc5+,Kh6,Rc7,Bf5,Rc5,Bd7,Rc7,Bf5,Rc6+,Kh7,Kh2,Kg8,Rc7,Kf8,Nd4', 'g3+,Kg1,h2+,Kxg2,Be4+,Kxg3,h1=Q', 'https://lichess.org/training/sS2mM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ss2Oi', 'Blitz', 'Fernando19062015', 1649, 'aziz6112', 1679, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,c3,O-O,a4,d6,Bg5,h6,Bh4,Bg4,O-O,d5,exd5,Nxd5,Re1,Bxh4,Nbd2,Nb6,Bb5,a6,Bxc6,bxc6,a5,Nd5,Qb3,Rb8,Qa4,Be7,Nxe5,Bf5,Nxc6,Qd7', 'Nxe7+,Nxe7,Qxd7,Bxd7,Rxe7', 'https://lichess.org/training/ss2Oi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ss354', 'Blitz', 'NM robertoyepez', 2326, 'Aldayr12', 1808, 'd4,d5,c4,e5,dxe5,d4,e3,Bb4+,Nd2,dxe3,fxe3,Nc6,Nf3,Bg4,Qb3,Nge7,Be2,O-O,O-O,Bxd2,Bxd2', 'Bxf3,Bxf3,Qxd2', 'https://lichess.org/training/Ss354');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ss3nZ', 'Classical', 'Grandpatzer13', 1843, 'Madcrown', 1798, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Nc3,Nf6,Bg5,c6,Qd3,O-O,O-O-O,h6,h4,Bg4,Be2,Bxf3,gxf3,Nbd7,Rdg1,hxg5,hxg5,g6,gxf6,Nxf6', 'Rxg6+,fxg6,Qxg6#', 'https://lichess.org/training/Ss3nZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sS4Yp', 'Rapid', 'floog', 1766, 'JuanBCastroR', 1682, 'd4,d5,c4,c6,c5,b5,b4,a5,Bd2,a4,h3,g6,Nf3,Bg7,Bg5,h6,Bf4,Nd7,e3,g5,Bg3,Ngf6,Ne5,Bb7,Nd2,O-O,Ndf3,Nxe5,Nxe5,Ne4,Ng4,f5,Ne5,Nxg3,fxg3,Bxe5,dxe5,e6,Qh5,Kh7,Bd3,Qe8,Qxe8,Raxe8,g4,Re7,O-O-O,Ref7,Rdf1,Kg7,gxf5,exf5,g4,f4,exf4,Rxf4,Rxf4,gxf4,Bf5,Bc8,e6,Kf6,Re1,h5', 'e7,Re8,Bxc8', 'https://lichess.org/training/sS4Yp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ss73N', 'Blitz', 'GustafIII', 2040, 'SevernyiFlot96', 2063, 'e4,e5,Nf3,d6,Bc4,c6,Nc3,Be7,d4,Nd7,O-O,Ngf6,h3,b5,Bb3,a5,a4,b4,Ne2,Nxe4,Qd3,d5,Nxe5,Nxe5,dxe5,Ba6,Qf3,O-O,Re1,Qc7,Bf4,Qb6,Rad1,Bc5,Bg3,Kh8,Nf4,Rae8,Nd3,Bd4,Qh5,Nxg3,Qg4,Ne4,Rxe4,dxe4,Nf4,Bxe5,Rd7,Bc8,Bxf7,Bxd7', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/ss73N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ss7e2', 'Blitz', 'Umeyrsantur', 1810, 'scorn', 1814, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,Nf3,g6,d4,Bg7,Bg5,Nbd7,O-O,c6,Re1,O-O,Ne5,Nb6,Bxf6,exf6,Nxf7,Rxf7,Bxf7+,Kxf7,Qe2,Bf8,a4,Nd5,Nxd5,Qxd5,c4,Qf5,Qe8+,Kg8,d5,cxd5,cxd5,Qxd5,Rad1,Qg5,Re7,Bh3', 'Qf7+,Kh8,Qxh7#', 'https://lichess.org/training/ss7e2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ss7yt', 'Rapid', 'Toxenory', 1973, 'Kalachnikas', 1760, 'd4,d5,c4,dxc4,Nf3,e6,Nc3,Bb4,e4,Nf6,Bg5,Nbd7,Bxf6,Nxf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/ss7yt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sSAAN', 'Rapid', 'Strepton', 2099, 'stevehayman', 1684, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,c4,Nc6,Nc3,g6,d4,cxd4,Nxd4,Bg7,Be3,Rc8,O-O,Nf6,f3,O-O,b3,a6,Qd3,Qc7,Rac1,Ne5,Qd2,e6,Rfd1,Rfd8,h3,Nfd7,f4,Nc6,Nd5,exd5,cxd5,Nc5,dxc6,bxc6,Qc2,Qe7,Nxc6,Rxc6,b4,Qxe4', 'Qxe4,Nxe4,Rxc6', 'https://lichess.org/training/sSAAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ssac0', 'Classical', 'dpc_que', 1999, 'eli661', 1613, 'd4,d5,Bf4,Bf5,e3,Nf6,Bd3,Bxd3,Qxd3,e6,Qb5+,Nbd7,Qxb7,Rb8,Qxa7,Rxb2,Qxc7,Qxc7,Bxc7,Rxc2,Ba5,Bd6,Nf3', 'Rc1+,Ke2,Rxh1', 'https://lichess.org/training/ssac0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sSBLC', 'Rapid', 'schertzer98', 1647, 'AndriusM', 1612, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Qxd4,c5,Qd3,Nf6,Bxf7+,Kxf7,Ne5+,Kg8,Ng6,Rh7,e5,Nh5', 'Qd5+,Be6,Qxe6#', 'https://lichess.org/training/sSBLC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ssBYH', 'Rapid', 'Egyptian2030', 1857, 'carlr01', 1837, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Bb5+,Nc6,O-O,a6,Be2,e6,c3,Nf6,Bg5,Be7,h3,Bh5,Ne5,Bxe2,Qxe2,O-O,Nd2,h6,Bf4,Nd7,Ndf3,Bf6,Ng4,Be7,Qd2,b5,Bxh6,gxh6,Nxh6+,Kh7,Ng4,Rh8,Rae1,Kg6,Qd3+,Kg7,Nfe5,Qc7,f4,Rag8,f5,exf5,Rxf5,Ncxe5,dxe5,Rf8,e6,fxe6,Rxf8,Kxf8,Rxe6,Bc5+,Kh1,Qf4,Qg6,Qf1+,Kh2,Qf4+,Kh1,Rxh3+,gxh3', 'Qf1+,Kh2,Qg1#', 'https://lichess.org/training/ssBYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SSCIE', 'Blitz', 'colnago_master', 2377, 'CM MasterTol', 2368, 'c4,Nf6,Nc3,e5,g3,Nc6,Bg2,Bb4,Nf3,O-O,O-O,d6,b3,a5,Ne1,Nd4,e3,Ne6,Nc2,c6,a3,Bc5,d4,Ba7,b4,axb4,axb4,exd4,exd4,Bd7,c5,d5,b5,b6,bxc6,Bxc6,Nb4,Qd7,Nxc6,Qxc6,Qb3,bxc5,Nxd5,Nxd5,Bxd5,Nxd4,Qc4,Qf6,Be3,Nf3+,Kg2,Ne5,Qf4,Rad8,Rxa7,Rxd5,Qxf6,gxf6,Rc7,Nd3,Rd1,Rfd8,Kg1,h5,h4,Kg7,Rd2,Kg6,Rc2,Ra8,Bxc5,Ra1+,Kg2', 'Ne1+,Kh3,Nxc2', 'https://lichess.org/training/SSCIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ssCrL', 'Rapid', 'zoran_ribar', 1705, 'vvardakosta', 1746, 'e4,Nc6,Bb5,Nf6,Bxc6,bxc6,Nc3,d5,e5,Ne4,Nxe4,dxe4,d4,Bf5,Be3,e6,g4,Bg6,f4,f5,h3,Bb4+,c3,Ba5,Qd2,c5,d5,Qh4+,Kd1,fxg4,Kc2,Bf7,Ne2,exd5,Bxc5,O-O-O,hxg4,Qxg4,Bd4,Bg6,Qe3,Bb6,Rag1,Bxd4,Nxd4,Qd7,Ne6,Qa4+,Kb1,Rdf8,Nxf8,Rxf8,Rd1,Rxf4,Qxf4', 'e3+,Ka1,Qxf4', 'https://lichess.org/training/ssCrL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SsdhI', 'Rapid', 'lavrick', 1909, 'Nekedisjo', 2069, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,e6,Be3,a6,Rd1,Ne5,Qe2,Nxc4,Qxc4,Rc8,Qb3,Qc7,O-O,Nf6,e5,dxe5,Bb6,Qc4', 'Rd8+,Rxd8,Qxc4', 'https://lichess.org/training/SsdhI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SsDRF', 'Rapid', 'Potti09', 1769, 'Pesan', 1694, 'd4,d5,Nf3,Nf6,Nc3,Nc6,Bf4,a6,e3,e6,Bd3,Nh5,Bg3,Nxg3,hxg3,h6,Qe2,Be7,O-O-O,Bb4,Qd2,Qe7,Kb1,a5,a3,Bxc3,Qxc3,Bd7,Ne5,Nxe5,dxe5,c5,f4,c4,Be2,b5,Bf3,b4,axb4,axb4,Qd4,Qd8,Qc5,b3,cxb3,Rc8,Qb4,Rb8,Qd6,Rxb3,e4,Rb6,Qa3,Rb3,Qa2,O-O,exd5,Qb6,Ka1,Rb8,Rd2,exd5,Bxd5,Bc6,Bxc4,Ra8,Bxb3,Rxa2+,Bxa2,Qa5,Rhd1,Ba4,Rd8+,Kh7,R1d5', 'Qe1+,Bb1+,Bc2', 'https://lichess.org/training/SsDRF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SSeWb', 'Rapid', 'MiguelAngelSumarriva', 1821, 'Alfredo_Munoz_A', 1814, 'c4,c5,Nc3,Nf6,d3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,e6,Nf3,Be7,Be2,O-O,O-O,b6,d4,cxd4,cxd4,Ba6,Bxa6,Nxa6,e5,Rc8,Be3,Nb4,a3,Nd5,Bd2,Qd7,a4,Rc4,a5,b5,Rc1,Rfc8,Rxc4,Rxc4,Qe2,Qc7,g3,Bb4,Bxb4,Nxb4,Qe4,Nd5,Nd2,Ra4,Nb3,Ra3,Nc5,Rxa5,h4,Nc3', 'Qa8+,Qb8,Qxb8#', 'https://lichess.org/training/SSeWb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SsFfU', 'Rapid', 'Rob00', 1711, 'Fauris', 1771, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Na4,Bxf2+,Kxf2,Nf6,Ng1,Nxe4+,Ke3,d5,d3,Qg5+,Ke2,Bg4+,Nf3,Bxf3+,gxf3', 'Nd4+,Ke1,Qh4#', 'https://lichess.org/training/SsFfU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SsfYT', 'Rapid', 'Nexus80', 1624, 'dallashoodboss', 1645, 'Nf3,c5,d4,cxd4,c3,dxc3,Nxc3,h6,Ne5,Nf6,e4,d6,Bc4,dxe5', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/SsfYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SsgLW', 'Rapid', 'yuvalz', 1756, 'lombado', 1797, 'e4,d6,d4,e6,Nf3,a6,Bc4,h6,Nc3,Ne7,Bf4,Nd7,O-O,Ng6,Bg3,Be7,Re1,Nb6,Bb3,Bd7,h3,O-O,Qe2,Nc8,a4,b6,e5,d5,Qe3,c5,dxc5,bxc5,Ne2,c4,Ba2,a5,b3,Nb6,Ned4,Rc8,Rab1,cxb3,cxb3,Bb4,Rec1,Re8,Nb5,Bxb5,axb5,Ne7,Bh4,Rxc1+,Rxc1,Qb8,Nd4,Ng6,Nc6,Qb7,Bg3,Rc8,Nxb4,Rxc1+,Qxc1,axb4,Bb1,Ne7,Qc5,Kf8,Bh4,g5,Bg3,Nd7,Qxb4,Qc7,Qd2,Nxe5,Qb2,f6,f4,gxf4,Bxf4,Nf3+,gxf3,Qxf4,Kg2,e5,b6,Nc6,Qa3+,Kf7,Qd6,Qd2+,Kg3,Nd4,Qxd5+,Ke7,Qb7+,Ke6,Qc8+,Kf7,Bg6+,Kxg6', 'Qg8+,Kf5,Qg4#', 'https://lichess.org/training/SsgLW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sSGmF', 'Rapid', 'miteshk', 1677, 'Zhylkaidarov', 1898, 'e4,c5,Bc4,Nc6,Nf3,g6,Ng5,Ne5,d3,Nxc4,dxc4,Bg7,Qf3,f6,Nh3,d6,Nc3,Be6,Nd5,Qd7,Nhf4,Bxd5,cxd5,O-O-O,Ne6,Bf8,Nxd8,Qxd8,Qg4+,Kb8,Bf4,Nh6,Qe2,Nf7,O-O,h5,b4,g5,Bd2,g4,bxc5,dxc5,Rfb1,Ne5,Qb5,Qc8,Bf4,Bh6,Bxe5+,fxe5,a4,h4,a5,g3,fxg3', 'Be3+,Kh1,hxg3', 'https://lichess.org/training/sSGmF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SSGV3', 'Rapid', 'allalimiloud', 1861, 'MagnisCarlsen', 1871, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,Be7,O-O,a6,d4,b5,Bb3,cxd4,cxd4,Na5,Bc2,Nc4,b3,Nb6,Bb2,Bb7,Nc3,Nf6,Qd3,Rc8,h3,Rxc3,Bxc3,Bxe4,Qd2,Nbd5,Bb2,Qc7,Bb1,Bb4,Qe2,Bxf3,Qxf3,Ke7,Rc1,Qf4,Qd1,g5,a3,Bd2,Rc2,Ne4,Rxd2,Nxd2,Bc1,Nc3,Qxd2,Nxb1,Rxb1,Qxd2,Bxd2,h6,a4,Rb8,Bb4+,Kf6,axb5,Rxb5,Bc3,Ke7,b4,f5,g4,Kd6,gxf5,Rxf5,Ra1,Rf3,Rxa6+,Kd5,Be1,Rxh3,b5,Rb3,b6,Kxd4,Bd2,Kc5,Be3+,Kc6,Ra7,d5,Rc7+,Kd6,Kf1,h5,Bxg5,Rxb6,Rh7,d4,Rxh5,e5,Ke2,Kd5,Kd3,Rb3+,Kc2,Rf3,Bh4,Kc4,Rxe5,Rc3+,Kd2,d3,Re8,Rc2+,Ke3', 'Re2+,Kf3,Rxe8', 'https://lichess.org/training/SSGV3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SSHeK', 'Blitz', 'skikdi21400', 1842, 'birdsbite', 1821, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,O-O,dxc4,d4,f5,Bg5,Be7,Bxe7,Qxe7,Ng3,e4,Re1,O-O,Ne5,Nxe5,dxe5,Qxe5,f4,Qxf4,Qd5+,Kh8,Qxc4,Bd7,Rf1,Qe5,Qb3,Bc6,Rae1,Rad8,Nh5,Rd2,Nf4,Qf6,Re3,Rfd8,Rg3,Qd4+,Kh1,Rd1', 'Ng6+,hxg6,Rh3#', 'https://lichess.org/training/SSHeK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SsKfC', 'Rapid', 'yvh', 1750, 'Metha1512', 1755, 'g3,f5,Bg2,d5,d3,e6,a3,Nf6,Nc3,Bd6,Nf3,c6,O-O,O-O,Bd2,e5,Qc1,Rf7,Nh4,Qc7,b4,f4,Na4,Bg4,h3,Bxe2,Re1,Bh5,g4,Bg6,Nf3,Nbd7,Bc3,e4,dxe4,dxe4,Nd4,f3,Bh1,Bh2+,Kf1,Re8,Bxf3,exf3,Nxf3,Rxe1+,Qxe1,Rf8,Kg2,Be4,Nc5,Bxf3+,Kxf3,Nxg4+,Kg2,Rxf2+,Kh1,Qg3,Qe4,Rf1+,Rxf1', 'Nf2+,Rxf2,Qg1#', 'https://lichess.org/training/SsKfC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SSKr2', 'Bullet', 'CM cluke', 2308, 'LoiuseMichel', 2367, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Bb5,Qa5+,Nc3,Nxe4,Bxc6,Nxc3,Qd2,dxc6,O-O,Bg4,Qxc3,Qxc3,bxc3,Bxf3,gxf3,Bd6,Rb1,b6,Rd1,Ke7,c4,Rhd8,Bb2,f6,Re1,Kf7,Re2,Bc5,Kg2,Rd7,Rbe1,Rad8,Bc3,Bd4,Bb4,a5,Ba3,Bc3,Rb1,Rd2,Rxd2,Rxd2,Rxb6,Rxc2,Rxc6,Be1,Rc7+,Kg6,Bf8,Rxf2+,Kg1,Rxa2,Rxg7+,Kf5,Rxh7,Bc3,h4,Bd4+,Kf1,Rc2,h5,Rxc4,h6,Kg6', 'Rg7+,Kxh6,Rc7+,Kg6,Rxc4', 'https://lichess.org/training/SSKr2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ssLhI', 'Rapid', 'sycomore', 1710, 'la34rd', 1704, 'd4,Nf6,e3,g6,Bd3,Bg7,e4,d5,e5,Ne4,f3,e6,fxe4,dxe4,Bxe4,Qh4+,Kf1,Qxe4,Nc3,Qf5+,Nf3,b6,Qd3,Qxd3+,cxd3,O-O,Kf2,Nc6,a3,Ba6,Rd1,Rad8,Be3,f5,Bg5,Rd7,Ne2,h6,Bf6,Bxf6,exf6,Rxf6,b4,Ne7,a4,Bb7,Ne5,Rd5,Rac1,c6,b5,c5,Nf3,g5,dxc5,bxc5,d4,g4,Ne1,Kf7,dxc5,Rxd1,Rxd1,Nd5,c6,Bc8,Nd3,f4,Ne5+,Ke8,Nxg4,Rf5,h3,h5,Nh2,Ne3,Rd6,Nd5,Nf3,Ke7,Rxd5,exd5,Nfd4,Rf6,Kf3,Rg6,Nxf4,Rf6,Ke3,Rd6,Nxh5,Rg6,Nf4,Rg3+,Kf2,Ra3,Nxd5+,Kd6,b6,Kxd5', 'b7,Bxb7,cxb7', 'https://lichess.org/training/ssLhI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SSlK9', 'Rapid', 'Harav-Shach', 1798, 'Ahmethakan1', 1728, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,Nc3,Nf6,d4,Bg4,dxe5,dxe5,Qxd8+,Rxd8,Nxe5,Bb4,f3,Bxc3+,bxc3,Bd7,Ba3,Nh5,O-O,f6,Nxd7,Rxd7,Rfd1,Rxd1+,Rxd1,Nf4,Kf2,Ne6,g3,Kf7,f4,Rd8,Rxd8,Nxd8,f5,g6,g4,gxf5,gxf5,Kg7,Be7,Nf7,h4,Nd6,Kf3,Kf7,Bd8,Nb5,c4,Nd4+,Kf4,Nxc2,Bxc7,h5,c5,Nb4,e5', 'Nd5+,Ke4,Nxc7', 'https://lichess.org/training/SSlK9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sSmBg', 'Classical', 'vovhooo', 1657, 'sneclar', 1611, 'e4,c5,Nc3,d6,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nf6,f3,O-O,Bc4,Nc6,Nxc6,bxc6,Qd2,e6,O-O,d5,exd5,cxd5,Be2,Nh5,Bd4,e5,Bc5,Re8,Bb5,Re6,Ba4,d4,Ne4,Nf4,Bb3,Re8,Nd6,Qg5,Bxf7+,Kh8,Nxe8', 'Nh3+,Kh1,Qxd2', 'https://lichess.org/training/sSmBg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SSmdM', 'Classical', 'valva', 1935, 'Si73', 1682, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,g6,g3,Bg7,Bg2,Be6,Qb3,Qd7,Ne5,Qc8,Nxd5,Nxd5,Bxd5,O-O,Bxe6,Qxe6,Qxe6,fxe6,O-O,Bxe5,dxe5,Nc6,f4,Nd4,Rf2,Rac8,Be3', 'Nc2,Rb1,Nxe3', 'https://lichess.org/training/SSmdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sSmK3', 'Blitz', 'jchiappe', 2049, 'CM carangelmx', 2208, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,Nc6,Bc4,O-O,Qd2,Bd7,O-O-O,Rc8,Bb3,Nxd4,Bxd4,b5,h4,a5,h5,a4,Bd5,b4,Ne2,Nxd5,exd5,Bxd4,Qxd4,b3,axb3,axb3,c3,Qa5,hxg6,Qa1+,Kd2,Qxb2+,Ke3,fxg6,Rd2,Qa3,Qh4,Rf7,Rd4,b2,Re4,Rxc3+,Nxc3,Qxc3+,Kf2,Qc5+,Kg3,Qxd5,Rxe7,Bf5', 'Re8+,Kg7,Qxh7+', 'https://lichess.org/training/sSmK3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SSMO3', 'Classical', 'AndjelkoV', 1632, 'prosta4ok', 1688, 'e3,d5,c3,Nf6,d4,a6,Nf3,Nc6,h3,Qd6,Be2,h5,Nbd2,b5,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qd6,Nd4,Ng4,g3,Nf6,Kg2,Qd7,Rh1,Qe7,Bf3,Ne4,Qd3,Qe5,Bxe4,dxe4,Qc2,Bd7,Bd2,Bd6,h4,g5,hxg5,h4,Be1,Qxg5', 'Qxe4+,Kf8,Qxa8+', 'https://lichess.org/training/SSMO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sSoFZ', 'Blitz', 'Alvargar', 1675, 'PFlavius', 1599, 'e4,e5,Bc4,Nc6,d3,Bc5,Nc3,Nf6,a3,a5,Nf3,d6,h3,Qe7,Bg5,Be6,Nd5,Bxd5,Bxd5,Nd4,Bxb7,Rb8,Nxd4,Bxd4,Bc6+,Kf8,c3,Ba7,Rb1,h6,Bh4,g5,Bg3,Nh5,Qxh5,Qf6,Qf3,Qg7,Bd5,f6,h4,g4,Qf5,h5,d4,Qh6,dxe5,dxe5,Bxe5,Rxb2,Bxf6,Rxb1+,Ke2', 'Rb2+,Kd3,Qd2+,Kc4,Qe2#', 'https://lichess.org/training/sSoFZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ssP6H', 'Rapid', 'The_Chaos_Causer', 1929, 'the_gree', 1854, 'c4,e6,Nc3,f5,d4,Nf6,Nf3,Be7,Bg5,O-O,Ne5,b6,Bxf6,Bxf6,e4,Bb7,exf5,exf5,Nf3,d5,cxd5,Bxd5,Nxd5,Qxd5,b3,Nc6,Bc4,Rfe8+,Ne5,Qxc4,bxc4,Rad8,O-O,Nxe5,dxe5,Rxd1,Raxd1,Bxe5,Rfe1,Kf7,Rd5,Bxh2+,Kf1,Rxe1+,Kxe1,g6,g3,f4,Rd7+,Ke6,Rxc7', 'fxg3,Rxa7,g2', 'https://lichess.org/training/ssP6H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ssqI5', 'Rapid', 'Yorgos12', 1627, 'DJM23', 1675, 'e4,c5,Bc4,e6,Nf3,h5,d4,cxd4,Nxd4,a6,Nc3,b5,Bb3,h4,Qf3,Bb7,Qe3,Bd6,Bd2,Nc6,O-O-O,Be5,Nf3,Rc8,Nxe5,Nxe5,f4,Nc4,Qd4,f6,f5,Ne7,fxe6,dxe6,Qf2,b4,Na4,Bxe4,Bxb4,Qc7,Nc5,Bd5,Rhe1,a5,Bc3', 'Qxc5,Qxc5,Rxc5', 'https://lichess.org/training/ssqI5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sSRR6', 'Rapid', 'dreamchesser', 1739, 'robirop', 1789, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Nc3,Nf6,Bg5,Be6,Ne5,Bb4,Nxc6,bxc6,Bd3,h6,Bh4,g5,Bg3,Bd6,Bxd6,cxd6,O-O,a6,Re1,O-O,Qf3,Rb8,b3,a5,Bf5,Re8,Bxe6,Rxe6,Qh3,Rxe1+,Rxe1,Kg7,Ne2,Qe7,Kf1,Re8,Qd3,Qe6,Qd1,Qg4,Ng3,Qxd1,Rxd1,Ne4,Nf5+,Kg6,g4,h5,h3,Re6,Rc1,Nc3,a3,c5,dxc5,dxc5,Ne3,Re4,a4,hxg4,Nxg4,f5,Ne3,Rh4,Kg2,g4,hxg4,fxg4,Kg3,Kg5,Re1,Rh3+,Kg2,Rf3,Nxd5', 'Nxd5,Re5+,Rf5', 'https://lichess.org/training/sSRR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sst4D', 'Rapid', 'barrabarracuda', 1785, 'Satrangee', 1809, 'e4,c5,c3,Nc6,Nf3,e6,d4,Nf6,Bd3,b6,Bg5,Be7,Nbd2,O-O,O-O,h6,Bxf6,Bxf6,e5,Be7,Ne4,cxd4,cxd4,Bb7,Nfd2,Nxd4,Nc4,Qc7,Re1,f5,Ned6,Bd5,Rc1,Bc6,Bf1,Nb5,Nxb5,Bxb5,Nd6,Bc6,b4,Qb8,b5,Bd5,Bc4,Bxd6,Bxd5,exd5,Qxd5+,Kh8,Qxd6,Qxd6,exd6,Rae8,Re7,Rxe7,dxe7,Re8,Re1,Kg8,f4,Kf7,Re5,g6,h3,Rxe7,Rd5,Ke6,Rd2,d5,Kf2,Kd6,Kf3,Re4,Rc2,Rc4,Rd2,Rc5,a4,Rc4,Ra2,Kc5,g4,fxg4+,hxg4,Rc3+,Ke2,d4,f5,gxf5,gxf5,Re3+,Kf1,Re5,Rf2,d3,f6,d2,Rxd2,Rf5+,Rf2', 'Rxf2+,Kxf2,Kd6', 'https://lichess.org/training/Sst4D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ssU8C', 'Rapid', 'Her_O_inAdd', 1821, 'andychem70', 1748, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,e6,Nf3,Nc6,O-O,a6,a3,Nf6,Bg5,Be7,Qe2,Qc7,Rac1,Qb8,Ba2,O-O,Na4,b5,Rxc6,bxa4,Rfc1,Bb7,Rc7,Re8,Nd4,h6,Nxe6,hxg5,Nxg5,d5,exd5,Nxd5,Qh5,Bxg5', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/ssU8C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sSvfc', 'Rapid', 'Renjankarpov', 1752, 'UselessP1ayer', 1748, 'd4,d5,c4,e6,e3,Nf6,Nc3,Be7,Nf3,O-O,Qc2,c6,Be2,Nbd7,cxd5,exd5,Bd2,Re8,O-O,Bf8,a3,h6,Rfe1,Qc7,Bf1,Ne4,Nxe4,dxe4,Ne5,Nxe5,dxe5,Qxe5,Bc3,Qg5,b3,Be6,Rab1,Bd5,b4,Rad8,Bd4,b6,Bc4,Bd6,Qc3,Qh5,h3,Be5,Bxe5,Rxe5,Rbd1,Rg5,Kh2,Qg6,Rg1,Qd6+,Kh1,b5,Bxd5,cxd5,Rd4,Qg6,Qc5,a6,Qc7,Rd6,h4,Rh5,g3,Kh7,Kh2,Rf6,Rg2,Rhf5,Qc2,Qh5,Kg1,g5', 'g4,Qxh4,gxf5', 'https://lichess.org/training/sSvfc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SSWbZ', 'Rapid', 'a_meijster', 1892, 'KevinPulido_21', 1982, 'e4,c5,a3,Nc6,b4,cxb4,axb4,Nxb4,c3,Nc6,d4,e6,f4,d5,e5,Nge7,Bd3,Ng6,Ne2,Be7,O-O,O-O,Qc2,a6,Nd2,b5,Nf3,Bb7,Be3,Na5,f5,exf5,Bxf5,Nc4,Bc1,Bc8,Ng3,Be6,Bd2,a5,Qc1,a4,Bg5,a3,Bxe7,Qxe7,Bxe6,Qxe6,Ng5,Qc6,Qe1,h6,Nf3,a2,Rf2,Rfc8,Raxa2,Rxa2,Rxa2,Na5,Rxa5,Nf4,Qe3,Ne6,Ne2,Qc4,Nd2,Qc7,Rxb5,Ra8,Rb1,Ra2,Nb3,Qc4,Nbc1,Ra3,Rb4', 'Qxb4,cxb4,Rxe3', 'https://lichess.org/training/SSWbZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SswKz', 'Rapid', 'dylanette', 1968, 'LUCHOc', 2017, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Bd3,Nbd7,O-O,e5,d5,Nc5,Bc2,a5,a4,Ne8,Bg5,f6,Bh4,c6,Nd2,h5,Bg3,f5,exf5,Bxf5,Bxf5,Rxf5,f4,exf4,Rxf4,Rxf4,Bxf4,Nd3,Be3,Qf6', 'Nde4,Qe5,Qxd3', 'https://lichess.org/training/SswKz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SsxbU', 'Bullet', 'fgth', 1948, 'KGauss', 2015, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Nbd7,Qe2,Nc5,Bg5,Be7,O-O-O,O-O,f4,Qc7,g4,b5,Bxf6,Bxf6,g5,Be7,Rhg1,b4,Nd5,exd5,Bxd5,Bb7,Nf5,Bxd5,exd5,Rfe8,Qh5,b3,axb3,Nxb3+,Kb1,Nc5,Rg3,Bf8,Rh3,h6,gxh6,g6,h7+,Kh8,Qg4,Qd7,Nh6,Qxg4', 'Nxf7+,Kg7,h8=Q+,Kxf7,Rh7+,Bg7,Qxg7#', 'https://lichess.org/training/SsxbU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sSXXn', 'Rapid', 'theerkek', 1657, 'Vinaygn', 1689, 'e4,b6,Bc4,Bb7,Nc3,e6,Nf3,Bb4,O-O,Bxc3,bxc3,Bxe4,Re1,Nf6,d3,Bb7,d4,O-O,Bg5,d6,Nh4,Nbd7,d5,exd5,Bd3,Ne5,Be2,h6,Bf4,Nc4,Bf3,g5,Nf5,gxf4,Nxh6+,Kh7,Nf5,Re8,Qd3,Rxe1+,Rxe1,Kg8,Ne7+,Kf8,Nf5,Ne5,Qd2,Nxf3+,gxf3,Qd7,Qxf4,Ng8,Qg5,f6,Qg4,Re8', 'Rxe8+,Qxe8,Qg7#', 'https://lichess.org/training/sSXXn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SsYp0', 'Rapid', 'Say-Man', 1777, 'Karim1982', 1801, 'e4,e5,Nf3,d6,Nc3,a6,Bc4,h6,O-O,Nf6,h3,Be7,d4,exd4,Nxd4,O-O,Qf3,c5,Nf5,Nc6,Nxh6+,gxh6,Bxh6,Ne5', 'Qg3+,Nfg4,hxg4', 'https://lichess.org/training/SsYp0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('St0N4', 'Rapid', 'saino1', 1641, 'LUCHENVJ', 1630, 'e4,e5,Nc3,Bb4,f4,exf4,d4,Qh4+,g3,fxg3,Nf3,g2+,Ke2,gxh1=Q,Nxh4,Bxc3,bxc3,Qxe4+,Kd2,Qxh4,Qf3,Qxh2+,Bg2,Ne7,Ba3,d6,Rh1,Bg4,Qxg4,h5', 'Rxh2,hxg4,Rxh8+', 'https://lichess.org/training/St0N4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ST4EZ', 'Bullet', 'chess4756', 1589, 'immanuel97', 1663, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,Re1,Bg4,h3,Bh5,Nc3,b5,Bb3,Nd4,Re3,Nxf3+,gxf3,Be7,Nd5,Kf8,Nxf6,Bxf6,Bd5,Qd7,Bxa8,Qxh3,Qf1,Qh4,Qg2,g5,Qg3,Rg8,Qxh4,gxh4+,Kf1,h3,f4,h2,Rh3', 'Rg1#', 'https://lichess.org/training/ST4EZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('St7et', 'Classical', 'xX-Magistrat-Xx', 1983, 'promix17', 1944, 'e4,c5,Nf3,e6,c4,Nc6,Nc3,Nd4,Be2,Ne7,O-O,Nec6,a3,Qb6,b4,cxb4,axb4,Bxb4,Na4,Qc7,Bb2,e5,Nc3,Bxc3,Bxc3,Nxe2+,Qxe2,O-O,Nh4,d6,f4,Qe7,Qh5,f6,f5,Qf7,Ng6,Rd8,Rf3,hxg6,fxg6,Qe6,Qh7+,Kf8,Qh8+,Qg8,Qh4,Ke7,d3,Qh8,Qf2,Qh5,c5,Rh8,h3,Qxg6,Rg3,Qf7,Rb1,Rh6,cxd6+,Kd7,Qc5,Rb8,d4,b6,Qb5,a6,Qb2,b5,d5,Nd4,Bxd4,exd4,Qxd4,Ke8,Rf1,Rh5,Rgf3,Re5', 'Qxe5+,fxe5,Rxf7', 'https://lichess.org/training/St7et');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ST8t4', 'Classical', 'InissoR', 1689, 'Bakanim', 1916, 'd4,d5,c3,Nf6,Nf3,h6,Be3,Bg4,Nbd2,Nbd7,Qa4,c6,Nb3,e6,Ne5,Nxe5', 'dxe5,Nd7,Qxg4', 'https://lichess.org/training/ST8t4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ST9J0', 'Bullet', 'Warymaniac0801', 1589, 'IgnacioSantini', 1608, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bg4,h3,Bh5,g4,Bg6,Bd3,Nf6,Bc2,Nxe4,O-O,Be7,d4,exd4,cxd4,h5,Re1,Nf6,Bxg6,fxg6,Qd3,hxg4,Qxg6+,Kf8,Ng5,Qe8', 'Ne6+,Kg8,Qxg7#', 'https://lichess.org/training/ST9J0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('stadm', 'Rapid', 'reichenbacher', 1911, 'hoseinarab', 1943, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Qd5,Qe7,h3,Ngxe5,Nxe5,Qxe5,Nc3,Bb4,Bd2,Bxc3,Bxc3,Qxd5,cxd5,Ne7,d6,cxd6,Bxg7,Rg8,Bc3,Nd5,O-O-O,Nxc3,bxc3,Ke7,g3,b6,Bg2,Rb8,Rd4,Rg6,Rh4,h6,Be4,Rf6,f4,Bb7,Bxb7,Rxb7,Rh5,Rc7,Kb2,Rc5,Rxc5,dxc5,e4,Rg6,g4,Kd6,Rd1+,Kc6,c4,Rd6,Rd5,Rxd5,cxd5+,Kd6,h4,Ke7,a4,Kf6,Kc3,h5,e5+,Kg6,f5+,Kh6,g5+,Kg7,Kc4,Kf8,Kb5,Ke8,Ka6,c4,Kxa7,c3,Kxb6,c2,a5,c1=Q,a6,Kd8,a7,Qb1+,Ka6,Kc7', 'd6+,Kc6,a8=Q+', 'https://lichess.org/training/stadm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sTaJY', 'Classical', 'naval2', 1727, 'prefacio', 1731, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,f6,O-O,Bg4,d3,Bd6,Qe2,Ne7,h3,Bh5,Be3,Qd7,Bd2,c5,Qe3,h6,Nh4,O-O-O,a4,f5,exf5,Nxf5,Nxf5,Qxf5,g4,Bxg4,hxg4,Qxg4+,Qg3,Qe6,Ne4,h5,Ng5,Qe7,Qh3+,Kb8,Ne4,g5,Bxg5,Rdg8,Qf5,Rxg5+,Nxg5', 'Rg8,f4,exf4,Kh1,Rxg5', 'https://lichess.org/training/sTaJY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STAOi', 'Blitz', 'WIM malybalaganiarz', 2381, 'NS-KiemLong', 1979, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,c6,d3,Nf6,Ne2,Bg4,f3,Bh5,Be3,e6,Qd2,Bd6,O-O-O,Nbd7,Kb1,O-O-O,Ne4,Qxd2,Nxd6+,Kc7,Rxd2,Kxd6,Nf4,Bg6,Nxg6,hxg6,Re1,Kc7,Bf4+,Kc8,Bb3,Nh5,Bg5,f6,Bh4,g5,Bf2,e5,Bg1,Nf4,g3,Nd5,d4,exd4,Bxd4,N7b6,c3,Rhf8,Rde2,f5,Re5,Rf7,Bxb6,axb6,Bxd5,cxd5,Re6,Kc7,Kc2,f4,g4,Rh8,R1e2,Rh3,Rf2,Rf6,Re5,Kd6,Rxg5,g6,Kd3,Re6,Kd4,Rh7,Rxd5+,Kc6,c4,Rc7,b3,b5,cxb5+,Kb6,a4,Re3,Rd2,Rcc3,Rd6+,Ka5,Rd5,Rxb3,Rd6,Kxa4,b6,Kb5,Rc2', 'Rbd3#', 'https://lichess.org/training/STAOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STBps', 'Blitz', 'ajedrezfrench', 1811, 'vishalrbi', 1704, 'e4,c5,c3,e6,d4,cxd4,cxd4,d5,e5,Bb4+,Nc3,Ne7,Bd3,O-O,Ne2,Nbc6,O-O,Bd7,Kh1,a6,f4,g6,a3,Bxc3,Nxc3,Rc8,Bb1,Kh8,Qg4,Nf5,Bxf5,gxf5,Qh5,f6,Rf3,Rg8,Rh3,Rg7,Be3,Qe7,Rf1,Rcg8,Ne2,Be8,Qh6,fxe5,fxe5,Rxg2,Nf4,Bf7,Qf6+,R2g7,Nxe6,Bxe6', 'Rxh7+,Kxh7,Qh6#', 'https://lichess.org/training/STBps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('stcND', 'Rapid', 'UsoCrack', 1855, 'kowal902', 1860, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Be2,O-O,O-O,Qg6,Nxc6,Qxc6,Bxc5,Qxc5,Qd4,Qg5,Nd2,Nc6,Qd5,Qg6,Bd3,Qh6,e5,Re8,Bc4,Qh5,e6,Qxd5,Bxd5,dxe6,Bf3,Bd7,Rad1,Rad8,Nb3,b6', 'Rxd7,Rxd7,Bxc6', 'https://lichess.org/training/stcND');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('StDd8', 'Blitz', 'hamma20', 1810, 'nestor351', 1749, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e3,d5,Be2,O-O,Nf3,Bg4,h3,Bxf3,Bxf3,c6,h4,Nh5,Bxh5,gxh5,Qxh5,Nd7,Bh6,Nf6,Bxg7,Kxg7,Qe2,Qd7,f3,b5,g4,b4,Na4,e5,dxe5,Ne8,Nc5,Qc7,f4,a5,e6,f6,g5,f5,h5,Nd6,h6+,Kh8,g6,hxg6,Nd7,Rf7,exf7,Qxd7,O-O-O,Kh7,Rhg1,Qxf7,Qg2,Ne4,Rd4,c5,Rxd5,Ra6,Re5,Qxa2,Re7+,Kh8,Rxe4,fxe4,Qxe4,Qa1+,Kd2,Rd6+,Ke2,Qxg1', 'Qe5+,Rf6,Qxf6+,Kh7,Qg7#', 'https://lichess.org/training/StDd8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STEwX', 'Blitz', 'FM DBBM', 2467, 'WGM vwnv7', 2551, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,Nf6,Re1,O-O,h3,a6,Bf1,e5,d4,d6,Na3,b5,Nc2,Bb7,a4,c4,axb5,axb5,Rxa8,Qxa8,d5,Na5,Na3,Qe8,b4,Nb3,Bg5,Ba6,Nd2,Nxd2,Qxd2,Nh5,g3,f5,exf5,gxf5,Nc2,f4,gxf4,Qg6,Bg2,Nxf4,Bxf4,Rxf4,Ne3,Bc8,Kf1,Bf6,Ra1,Bh4,Ra8,Rf8,Nd1,Kg7,Ra7+,Kg8,Ra8,Bg5,Qe2,Qh6,Ne3,Bxe3,Rxc8,Rxc8,Qg4+,Kf7,Qd7+,Kg6,Be4+,Kg5,Qf5+,Kh4', 'Qg4#', 'https://lichess.org/training/STEwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('stFil', 'Blitz', 'FM PetarBosnjak', 2495, 'IM guesitos', 2662, 'e4,c6,Nc3,d5,Nf3,g6,d4,Bg7,h3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bd3,O-O,O-O,a5,c4,Na6,a3,Nc7,Be3,Re8,Re1,b6,Rc1,Bb7,Qd2,Re7,Bf4,Ne6,Be3,Rd7,Qc2,Qc7,b4,axb4,axb4,Rad8,Qb1,Qb8,d5,cxd5,Bxb6,dxc4,Bxc4,Re8,Bb5,Rde7,Bxe8,Bxf3,Bc7,Rxc7,Rxc7,Nxc7,gxf3,Nxe8,b5,Nd6,b6,Bf8,Rc1,Qb7,Rc7,Qxf3,b7,Nxb7,Qxb7,Qxh3,Rxf7,Qg4+,Kf1', 'Qc4+,Kg2,Qxf7', 'https://lichess.org/training/stFil');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('stGFX', 'Blitz', 'CM akhairat', 2019, 'SKy63', 2000, 'e4,c6,d4,d6,Nc3,Nd7,f4,Ngf6,Nf3,e5,dxe5,dxe5,Bc4,Bc5,f5,Ng4,Qe2,Nf2,O-O,Nxe4+,Kh1,Nxc3,bxc3,O-O,Bg5,Qc7,Rad1,Nb6,Bb3,Re8,f6,g6,Bh6,Bg4,h3,Bxf3,Qxf3,e4,Qg4,a5,a4,e3,Rde1,Qe5,Qh4,e2,Rf4,Qxc3,Bg5,Nd5,Bxd5,cxd5,Bh6,Re6,Bg7,Rae8', 'Qxh7+,Kxh7,Rh4+,Kg8,Rh8#', 'https://lichess.org/training/stGFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('StGjA', 'Classical', 'ScaryDolphin', 1672, 'DAVID_CIEZA', 1685, 'd4,d5,Bf4,Nd7,e3,Ngf6,Nf3,e6,Bd3,Bd6,Bg3,c5,c3,Bxg3,hxg3,cxd4,exd4,Qe7,Nbd2,e5,Bb5,exd4+,Kf1,dxc3,bxc3,a6,Ba4,b5,Bb3,O-O,Nd4,Qc5,Qc2,Ne5,N2f3,Neg4,Nh2,h6,Nxg4,Nxg4,Rh4,f5,Re1,Ra7,f3,Nf6,Nxf5,Bxf5,Qxf5,Raf7,Qe6,Qxc3,Rf4,Re8', 'Qxe8+,Nxe8,Rxe8+,Kh7,Rxf7', 'https://lichess.org/training/StGjA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('StHsu', 'Rapid', 'Drteebond', 1779, 'zzubr', 1617, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,h3,Bf5,Nf3,Nf6,Bd3,Bxd3,Qxd3,e6,O-O,Be7,Bd2,Qb6,Na4,Qc7,g3,Nbd7,Bf4,Qa5,b3,O-O,Bd2,Qc7,Bf4,Bd6,Ne5,Rfd8,Qe2,Nxe5', 'dxe5,Nd5,exd6', 'https://lichess.org/training/StHsu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('StHT0', 'Rapid', 'Peloturbo', 1674, 'Ro15sa10', 1680, 'c4,c5,g3,Nc6,Bg2,e5,d3,Nf6,Nf3,e4,dxe4,Nxe4,Nfd2,Nf6,b3,Nd4,e3,Ne6,Bb2,Be7,O-O,O-O,Nc3,Rb8,Nce4,d5,Nxf6+,Bxf6,Bxf6,Qxf6,Bxd5,Ng5,Ne4,Nxe4,Bxe4,Bh3,Bg2,Rfd8,Qe2,Bxg2,Kxg2,Rd6,Rad1,Rbd8,Rxd6,Rxd6,Rd1,g5,Rxd6,Qxd6,Qf3,Qd7,Qd5,Qe7,e4,h6,Kf3,b6,Ke3,Kg7,f3,Kg6,Qf5+,Kg7,f4,f6,fxg5,hxg5,Kf3,Qd6,Qd5,Qe7,Kg4,Qc7,Kh5,Qc8,e5', 'Qh3#', 'https://lichess.org/training/StHT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sTJkn', 'Rapid', 'PythianOracle', 1660, 'Chino195', 1766, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Nge2,c6,g3,Bg4,Bg2,e6,d4,Qd6,Bf4,Qd7,Qd3,Bxe2,Nxe2,Na6,O-O,Be7,Nc3,Nb4,Qd2,h6,a3,Nd5,Nxd5,cxd5,Rfe1,Nf6,Bf1,O-O,Bxh6,gxh6,Qxh6,Nh7,Bd3,f5,g4,Bg5,Qh5,Rf7,gxf5,exf5,Re5,Rg7,Kh1,Rf8,Rae1,Nf6,Qf3,Ne4,c4,Nd2,Qe2,dxc4,Bc2,Qc6+,d5,Qc8,Rg1,Ne4,Bxe4,fxe4,Rgxg5,Rf7,Rxg7+,Rxg7,Qxe4,Qd7,Qxc4,Kf8,Qf4+,Kg8,Rf5,Qe7,Re5,Qd7,Rf5,Qe8,Re5', 'Qg6,Qg3,Qb1+,Kg2,Rxg3+', 'https://lichess.org/training/sTJkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STLdL', 'Rapid', 'PabloMarsiglia', 1730, 'mhmad-bk-fox01', 1738, 'd4,e6,e3,Nf6,a3,b6,Nd2,d5,Ngf3,Bb7,Be2,Bd6,c4,Qe7,b4,a6,Bb2,Nbd7,Ne5,Bxe5,dxe5,Nxe5,Bxe5,O-O-O,Bxf6,Qxf6,cxd5,Bxd5,Bf3', 'Bxf3,gxf3,Rxd2,Kxd2,Rd8+', 'https://lichess.org/training/STLdL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STLim', 'Blitz', 'antoineduplo', 1642, 'Mjoelner', 1724, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,Nf3,c6,e3,dxc4,Bxc4,b5,Be2,a6,a3,c5,Bxf6,Bxf6,dxc5,Qc7,Rc1,O-O,Qc2,Nd7,b4,Bb7,O-O,Ne5,Nd4,Rac8,Ne4,Be7,f4,Nc6,Nxc6,Bxc6,Rfd1,Qb7,Bf3,Rfd8,Ng5,g6,Bxc6,Qxc6,h4,Bf6,Qe4,Qxe4,Nxe4,Bb2,Rb1,Bxa3,Kf2,Rxd1,Rxd1,Bxb4,g4,Bxc5,Nf6+,Kg7,g5,Be7,Ne4,Rc2+,Ke1,Rh2,Rd7,Bb4+,Kf1,Rxh4,Nd6,Bxd6,Rxd6,Rh3,Kf2,Rh2+,Kg3,Ra2,e4,b4,f5,exf5,exf5,b3', 'f6+,Kh8,Rd8#', 'https://lichess.org/training/STLim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Stm93', 'Rapid', 'Raybaloji_88', 1714, 'spetterpoepke', 1766, 'd4,d5,Bf4,Nc6,Nf3,Nf6,Nbd2,Bg4,h3,Bh5,c3,Bg6,Nh4,e6,e3,Bd6,Bxd6,Qxd6,Nxg6,hxg6,a4,O-O-O,b4,Ne7,c4,Qxb4,Rb1,Qd6,Qb3,Qb6,Qa3,Qd6,c5,Qd7,Qb4,c6,Ba6,Qc7,Bxb7+,Kd7,Nf3,Ke8,Ne5,Rb8,Bxc6+', 'Nxc6,Nxc6,Rxb4', 'https://lichess.org/training/Stm93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Stmrb', 'Rapid', 'grzegorz10', 1726, 'MaciejB61', 1799, 'e4,d6,d4,Nf6,Nc3,g6,Bd3,Bg7,e5,dxe5,dxe5,Ng4,f4,e6,Nf3,O-O,h3,Nh6,Be3,b6,Qe2,Bb7,O-O-O,c5,Be4,Qc7,Nb5,Qe7,Bxb7,Qxb7,Nd6,Qc6,Rd3,Na6,a3,Nc7,c4,Qa4,g4,Rad8,Qd2,f5,exf6,Bxf6,f5,Nf7,fxg6,hxg6,Kb1,Qc6,Nxf7,Qxf3,Nh6+,Kh8,Rd1,Rxd3,Qxd3,Rd8', 'Nf7+,Kh7,Nxd8', 'https://lichess.org/training/Stmrb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('StmT9', 'Blitz', 'Assasins123', 1674, 'AhmadBS', 1632, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,O-O,Bg7,Nc3,Nf6,e5,Nd5,d4,Nxc3,bxc3,cxd4,cxd4,O-O,Ba3,Re8,h3,Bf5,c3,Be4,Nd2,Bd5,Nf3,e6,Qd3,b5,Rad1,Bc4,Qe4,Bxf1,Rxf1,Qd5,Qe3,a5,Bd6,Bf8,Rc1,Bxd6,exd6,Qxd6,Ne5,f6,Ng4,Kg7,Qh6+,Kf7,Qxh7+,Kf8,Nxf6,Qf4,Qg8+,Ke7', 'Qg7+,Kd6,Qd7#', 'https://lichess.org/training/StmT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STmW9', 'Classical', 'azmaine21', 1712, 'kingpawnman', 1732, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,c6,Bd3,Ne7,Ne2,Bf5,Bf4,Bxd3,Qxd3,O-O,Bxd6,Qxd6,O-O,Nd7,Rac1,Rad8,Ng3,Nf6,Rfe1,Rfe8,b3,Ng6,h3,Qa3,Qd2,Rxe1+,Qxe1,a6,c4,Qxa2,cxd5,Nxd5,Ng5,h6,N5e4,Kf8,Nc5,b6,Ra1,Qb2,Nxa6,Qxd4,Ra4,Qd3,Ra3,Ngf4,Nb4,Nxb4,Qxb4+,Qd6,Qxb6,Re8,Ra7,Ne2+,Kh2,Nxg3,fxg3,Kg8,Rc7,Re3', 'Rc8+,Kh7,Qxe3', 'https://lichess.org/training/STmW9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STNME', 'Classical', 'rdpils', 1926, 'Karmalogic', 2053, 'd4,Nf6,Nf3,d5,Bf4,c5,e3,Nc6,c3,Qb6,Qc1,Bf5,Nbd2,h6,Be2,e6,O-O,Be7,Ne5,O-O,Ndf3,Rfc8,Bd3,Be4,Nxc6,Qxc6,Ne5,Qe8,Bxe4,Nxe4,Qd1,f6,Nf3,Qh5,Nd2,Qxd1,Rfxd1,Nxd2,Rxd2,g5,Bg3,c4,f4,f5,fxg5,hxg5,Be5,b5,a3,a5,Kf2,b4,axb4,axb4,Rg1,Ra2,Ke2,Kf7,Rf1,Kg6,h3,Rca8,Rfd1,Ra1,Rxa1,Rxa1,Rd1,Ra2,Rd2,Kf7,g4,Ke8,gxf5,exf5,Bg3,Kd7,cxb4,Bxb4,Rc2,c3,Kd1,cxb2,Rc7+,Kd8,Kc2,Ba3,Rb7,Ra1,Rxb2,Bxb2,Kxb2,Rh1,Kc3,Rxh3,Bf2,Rf3,Bg1,g4,Kd3,g3,Ke2,Rf2+,Bxf2,gxf2,Kxf2,Ke7,Kf3,Kf6', 'Kf4,Kg6,Ke5', 'https://lichess.org/training/STNME');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sTNy4', 'Blitz', 'CM papasi', 2563, 'Reverse_Gallasch', 2326, 'd4,Nf6,c4,e5,dxe5,Ng4,e3,Nxe5,Nh3,d6,Nf4,Nbc6,Be2,Be7,Nc3,O-O,O-O,Bf6,Nfd5,h6,e4,b6,Nxf6+,Qxf6,Nd5,Qd8,b3,Ne7,f4,Nxd5,cxd5,Nd7,Bb2,f6,b4,a5,a3,Ba6,Bxa6,Rxa6,Rc1,axb4,axb4,Re8,h3,Rxe4,Qd3,Rxb4,Bxf6,Qxf6,Qxa6,Nc5,Qc8+,Kh7,Qxc7,Rxf4,Qxb6,Rxf1+,Rxf1,Qd4+,Kh1,Qxd5,Qb1+,Qe4,Qxe4+,Nxe4,Rf4,d5,Rf5', 'Ng3+,Kg1,Nxf5', 'https://lichess.org/training/sTNy4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sto0V', 'Classical', 'eliseoluque', 1638, 'om6655', 1731, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,g6,Bb5,Bg7,Bxc6,bxc6,Nf3,Nf6,Nc3,O-O,O-O,e6,h3,d5,e5,Nd7,Bf4,Qc7,Re1,Bb7,Rb1,a6,Qd2,c5,Re2,d4,Na4,Bxf3,gxf3,Bxe5,Bh6,Bg7,Rbe1,Rfe8,Bxg7,Kxg7,h4,h5,f4,Nf8,Re5,f6,Rxc5,Qd6,Re4,Rad8,f3,f5,Ree5,Nd7,Ra5,Nxe5,fxe5,Qc6,Kf2,Rd5,Rxd5,Qxd5,Qb4,Rd8,Qe7+,Kg8', 'Nb6,Qxe5,Qxd8+', 'https://lichess.org/training/sto0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('StOMK', 'Rapid', 'anuj_98', 1962, 'Sopwer', 1951, 'd4,Nf6,c4,e6,Nf3,d5,Bg5,Be7,e3,O-O,Nc3,Nbd7,Rc1,c6,Be2,Qc7,O-O,h6,Bh4,g5,Bg3,Bd6,Ne5,Nxe5,dxe5,Bxe5,cxd5,Bxg3,fxg3,Nxd5,Ne4,f5,Nxg5,hxg5,Qd3,Qe5,e4,fxe4,Qb3,b6,Rxf8+,Kxf8,Rf1+,Kg8,Bh5,Ba6,Rf7,Rf8,Rxf8+,Kxf8,Qa3+,Kg7,Qxa6,Qd4+,Kf1,Ne3+,Ke2,Qd3+', 'Qxd3,exd3+,Kxe3', 'https://lichess.org/training/StOMK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sTQh6', 'Rapid', 'joca552000', 1611, 'MarkoDj', 1826, 'e4,c6,Nf3,d5,e5,Bg4,h3,Bxf3,Qxf3,e6,d4,Bb4+,c3,Ba5,Qg4,g6,Bg5,Qd7,Bd3,h6,Bd2,Qe7,Na3,Nd7,O-O,O-O-O,f4,h5,Qg3,Nf8,b4,Bc7,b5,Qxa3,bxc6,bxc6,Rfb1,f5,Rb3,Qe7,Rab1,h4,Ba6+,Kd7,Qd3,c5,Rb7,c4,Bb5+,Kc8,Ba6,cxd3', 'Rb8+,Kd7,Bb5#', 'https://lichess.org/training/sTQh6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sTQkq', 'Rapid', 'Edw4rd', 1948, 'PortugueseDAce', 1955, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,c5,d3,Nc6,g3,Bg4,Bg2,Nd4,O-O,O-O-O,Be3,e6,Bxd4,cxd4,Ne4,f5,Ned2,Nf6,h3,Bh5,Qe1,Bf7,Qe5,Nd5,Nc4,Qb5,Nxd4,Qc5,Nxe6,Bxe6,Qxe6+,Kb8,Rfe1,f4,Bxd5,fxg3,Qe5+,Bd6,Nxd6', 'Qxf2+,Kh1,Qh2#', 'https://lichess.org/training/sTQkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('stQnA', 'Rapid', 'awilcz', 2001, 'Groinfeld', 1730, 'c4,c6,g3,g6,Bg2,Bg7,Nf3,d5,O-O,e5,cxd5,cxd5,d3,h6,Nc3,Ne7,Qb3,Nbc6,e3,O-O,e4,d4,Nd5,Rb8,Bd2,Be6,Nxe7+,Qxe7,Qa4,a5,Qb5,Bd7,Qb6,a4,b4,Rfc8,Rfc1,Qd8,Qxd8+,Nxd8,Nh4,Bb5,f4,Kh7,Bf1,Rc6,Rxc6,Nxc6,f5,Rf8,Rc1,Bf6,fxg6+,fxg6,Rc5,Ba6,b5,Be7,Rd5,Bb4,Bc1,Ne7,bxa6', 'Nxd5,exd5,bxa6', 'https://lichess.org/training/stQnA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sTrV4', 'Rapid', 'legendaryfatguy', 2080, 'ahmedkhater', 2195, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,f4,Bg7,Bb5+,Nfd7,Nf3,O-O,O-O,a6,Bxd7,Bxd7,a4,Bg4,Qe1,Bxf3,Rxf3,Nd7,Qg3,c4,Be3,Qc7,Re1,Nc5,Bf2,Nd3,Re2,Rab8,e5,b5,Bd4,b4,Ne4,dxe5,d6,Qc6,fxe5,Nc1,Ree3,Qd5,Qf4,Kh8,Nf6,Qc6,Rh3,h5,e6,fxe6,Rxe6,Rbe8,Rxe8,Rxe8,Nxe8', 'Ne2+,Kf2,Nxf4', 'https://lichess.org/training/sTrV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('stSb8', 'Classical', 'benibiz', 1756, 'malek24', 1733, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,d3,c5,Qf3,Qf6,Nd2,Qxf3,Nxf3,f6,O-O,Bd6,h3,Ne7,a4,a5,Bd2,Ng6,Nh2,Ne5,Bd5,Nc6,f4,Nb4,Bxb4,axb4,b3,Ra7,f5,Be5,Ng4,Rf8,Rf3,d6,Bc4,Bd7,Kf2,b5,Bd5,bxa4,Ke2,a3,Ra2,Ke7,Nf2,Kd8,Ng4,Kc7,Nxe5,dxe5,Rg3,g5,fxg6,hxg6,Rxg6,Be8,Rg7+,Kb8,Rg3,Rh8,Rf3,Rh6,Kf2,Bf7,Bc6,Kc7,Bb5,Kd6,Rg3,Rg6,Rxg6,Bxg6,g4,Rh7,Kg3,Ke7,Bc4,Rg7,Kf3,Kf8,Ra1,Rh7,Kg3,Rg7,Kf3,Ke7,h4,Bh7,h5,Rg5,Kg3', 'f5,exf5,Bxf5', 'https://lichess.org/training/stSb8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STsI5', 'Blitz', 'RicardoAguilar100', 1919, 'cinot', 1965, 'd4,d5,Nf3,e6,g3,Nf6,Bg2,Bd6,O-O,Qe7,Nbd2,c6,c4,Nbd7,e3,O-O,b3,Re8,Bb2,Nf8,Re1,N6d7,Qc2,Bc7,Rac1,f6,e4,Qf7,Rcd1,Bb6,exd5,exd5,c5,Bc7,Nf1,Ng6,Ne3,Ndf8,b4,Be6,a4,Rad8,Bc3,Qd7,Bd2,Bh3,Re2,Bxg2,Kxg2,Rxe3,Bxe3,Qg4,Rde1,Ne6,h3,Nef4+,Bxf4,Nxf4+,Kg1,Nxh3+,Kg2,Nf4+,Kg1,Qxf3,gxf4,Qxf4,Qd3', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/STsI5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STsxO', 'Blitz', 'mrorion', 1868, 'vlado1234', 2071, 'e4,d6,d4,Nd7,Nf3,c6,Bc4,Ngf6,Bxf7+,Kxf7,Ng5+,Kg6,Ne6,Qb6,O-O,Nb8,Nf4+,Kf7,e5,Nd5,Qh5+,Kg8,e6,g6,Nxg6,Nf6', 'Nxe7+,Bxe7,Qf7#', 'https://lichess.org/training/STsxO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STtNM', 'Blitz', 'Evgen-86', 1654, 'afnordine', 1565, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,e5,Ng4,d4,c5,f4,cxd4,c3,Ne3,Bxe3,dxe3,Qxd8+,Kxd8,Ke2,Bf5,Kxe3,c6,Bd3,Bg4,Nd2', 'Bc5+,Ke4,f5+,exf6,Re8#', 'https://lichess.org/training/STtNM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STtpS', 'Rapid', 'Player_07', 1857, 'atsingh', 1723, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Qxe2+,Bxe2,a6,Nf3,Nc6,a3,Nf6,O-O,Bf5,d3,h6,Bf4,O-O-O,h3,g5,Be5,Nxe5,Nxe5,Be6,f4,Rh7,fxg5,hxg5,b4,Rg7,a4,g4,hxg4,Bxg4,Bxg4+,Nxg4,Nxg4,Rxg4,Rxf7,Rxb4,Raf1,Bh6,Rxe7,Bd2,Rff7,c6,Ne4,Rb1+,Rf1', 'Be3+,Nf2,Bxf2+,Kxf2,Rf8+', 'https://lichess.org/training/STtpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sTUbS', 'Classical', 'Max799', 1643, 'elusia93', 1709, 'e4,e5,d4,Nc6,dxe5,Nxe5,Qd5,d6,Bf4,Nf6,Qb3,Nxe4,Bxe5,dxe5', 'Qa4+,Bd7,Qxe4', 'https://lichess.org/training/sTUbS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('stV5X', 'Blitz', 'FM Oladipo30', 2483, 'hardtraining', 2508, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f4,e5,Nf3,Qc7,Bd3,Be7,O-O,Nc6,Kh1,exf4,Qe1,Ne5,Bxf4,Be6,Nd4,O-O,Bxe5,dxe5,Nxe6,fxe6,a3,Bc5,Ne2,Ng4,h3,Nf2+,Kh2,Rad8,Bc4,Rf6,Ng3,g6,Qe2,b5,Bb3,Qg7,a4,Qh6,axb5,Rd2,Qc4,Qxh3+,gxh3', 'Ng4+,Kh1,Rh2#', 'https://lichess.org/training/stV5X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('StvKN', 'Rapid', 'dionut2255', 1891, 'MessyChessie', 1736, 'c4,c5,Nc3,e6,g3,Nc6,Bg2,a6,e4,b6,Nge2,Bb7,d4,cxd4,Nxd4,Qc7,Bf4,e5,Nxc6,Bxc6,Be3,Nf6,a3,Be7,b4,b5,c5,Rd8,Qb3,d6,Rd1,O-O,cxd6,Bxd6,Rxd6,Qxd6,O-O,Qc7,Rc1,Qb7,Bg5,Nxe4,Bxd8,Rxd8,Ne2,Bd5,Qd3,Nf6,Bxd5,Qxd5,Qxd5,Nxd5,Rd1,f6', 'Nc3,Rc8,Nxd5', 'https://lichess.org/training/StvKN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sTXim', 'Rapid', 'haveshki', 1874, 'terencetao', 1910, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,a6,Bd3,b5,a3,Bb7,O-O,e6,Re1,Be7,Bg5,Nbd7,Ne4,Nxe4,Bxe7,Nxf2,Bxd6,Nxd1,Bxc7,Nxb2,Be2,Bxf3,Bxf3,Rc8,Bd6,Nf6,d5,Kd7,Be5,Nxd5,Bxb2,Rxc2,Bxg7,Rg8,Bd4,Nf4,Rad1,Kc8,Bf2', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/sTXim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('STXYA', 'Blitz', 'IM BraveHeartIndian', 2471, 'sina_iran', 2546, 'b3,Nf6,Bb2,g6,e3,Bg7,f4,O-O,Nf3,d6,Be2,c5,O-O,Nc6,Na3,Bg4,c4,Qd7,Nc2,a6,a4,Na5,Bc3,b6,b4,cxb4,Nxb4,Rfc8,d3,Qe6,e4,Bxf3,Bxf3,Nd7,Bxg7,Kxg7,Nd5,h5,f5,gxf5,exf5,Qh6,Bxh5,Nf6,Nxf6,Qxf6,Bf3,Rab8,Kh1,Rh8,h3,Rh4,Rb1,Rbh8,Qe1,Qxf5,Qg3+,Qg6,Qxg6+,fxg6,Rxb6,Rd4,Rfb1,Rxd3,Rxa6,Nxc4,Ra7,Re3,Rbb7,Kf6,Kh2,Ne5,Bd5', 'Ng4+,Kg1,Re1#', 'https://lichess.org/training/STXYA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sTyx0', 'Rapid', 'blerghbeast', 2182, 'Estolog', 2138, 'e4,c5,d4,e6,dxc5,Bxc5,Nc3,a6,a4,Nc6,Bc4,Qb6,Nh3,Nf6,O-O,O-O,Kh1,d5,exd5,exd5,Nxd5,Nxd5,Qxd5,Bxh3,gxh3,Nb4,Qf5,Qc6+,f3,Bd4,Bd3,Nxd3,Qxd3,Rad8,Bg5,Bf6,Qe3,Bxg5,Qxg5,Qxc2,Qg2,Rd2,Qg3,Re8,b4,h6,Rg1,g6,Rac1,Qxa4,Qf4,Ree2', 'Rc8+,Re8,Rxe8+,Qxe8,Qxd2', 'https://lichess.org/training/sTyx0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SU0Ri', 'Bullet', 'NM crptone', 2502, 'Doxxs', 2168, 'c4,c5,g3,g6,Bg2,Bg7,Nc3,Nc6,e4,d6,Nge2,Nf6,a3,O-O,Rb1,a5,O-O,Ne8,h3,Nc7,Kh2,Ne6,d3,Ncd4,f4,Bd7,b4,axb4,axb4,cxb4,Rxb4,Bc6,Be3,Nxe2,Nxe2,Qa5,Rb1,b5,cxb5,Bxb5,f5,Nc5,Bxc5,dxc5,fxg6,hxg6,Nf4,Rad8,Nxg6,fxg6,Qb3+,Kh7,Rxf8,Rxf8,Qxb5,Qxb5,Rxb5,Bd4,Rb7,Rf7,h4,Kg7,Bh3,e5,Rb8,Rf2+,Kh1,Rf3,Rb7+,Kf8,Kg2,Rxd3,Be6,Rd2+,Kh3,Rc2,Rc7,Bf2,Kg4,Rc3', 'Rf7+,Ke8,Rxf2', 'https://lichess.org/training/SU0Ri');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Su1or', 'Classical', 'Georges38', 1728, 'Jakov2024', 1698, 'd4,d5,c4,c6,e3,e6,Nc3,a6,a4,Bb4,Qb3,Qa5,Bd2,Nf6,f3,Nbd7,Nb1,Bxd2+,Nxd2,c5,Bd3,Nb6,Qc3,Qxc3,bxc3,cxd4,cxd4,dxc4,Nxc4,Nxc4,Bxc4,Bd7,a5,Bb5,Rc1,O-O,Ne2,Rfc8,Bb3,Nd5,Kd2,Rd8,Nc3,Nxc3,Rxc3,e5,d5,Bc6,e4,f5,Ke3,f4+,Kf2,Bd7,Rhc1,Rac8,Rc7,Rxc7,Rxc7,Bc8,g3,g5,h4,h6,hxg5,hxg5,gxf4,exf4,d6+,Kf8,Ba4,Be6,e5,Bd5,d7,Ke7,Rc8,Be6,Rxd8,Kxd8,Ke2,Bxd7,Bxd7,Kxd7,Kd3,Ke6', 'Ke4,g4,fxg4', 'https://lichess.org/training/Su1or');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('su1pH', 'Rapid', 'kazi_han', 1865, 'whittled_rook', 1674, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Nc3,Nf6,Nf3,Bg4,Bc4,Bxf3,Qxf3,Qxd4,Bd3,e5,Qf5,Bd6', 'Qc8+,Ke7,Qxh8', 'https://lichess.org/training/su1pH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('su434', 'Rapid', 'Kamalkishor100', 1823, 'Mcmiller7', 1839, 'd4,c5,c3,Nc6,d5,Ne5,f4,Nc4,b3,Nb6,a4,a5,c4,d6,Nf3,Nf6,Nc3,g6,Bb2,Bg7,Rb1,O-O,e3,e6,e4,exd5,exd5,Re8+,Be2,Bg4,O-O,Bxf3,Bxf3,Nfd7,Bg4,Bd4+,Kh1,Qh4,f5,Ne5,fxg6,hxg6,Bh3,Kg7,Ne2,Bxb2,Rxb2,Ng4,Ng3,Ne3,Rxf7+,Kxf7,Be6+,Kg7,Qf3,Rf8,Qxe3,Qxg3', 'hxg3,Rf1+,Kh2,Rh8+,Bh3', 'https://lichess.org/training/su434');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Su7rN', 'Rapid', 'saeed1383', 1774, 'predator90', 1743, 'd4,Nf6,c4,c5,e3,cxd4,exd4,g6,Nc3,Bg7,Nf3,e6,Bd3,Nc6,Bg5,O-O,O-O,Qb6,d5,Qxb2,dxc6,Qxc3,Bxf6,Bxf6,cxb7,Bxb7,Qe2,Qa3,Rab1,Bxf3,Qxf3,Bg7,Qe2,Rab8,Rfc1,Rb4,Rxb4,Qxb4,Rb1,Qd6,g3,Rb8,Rb5,Rb6', 'c5,Rxb5,cxd6', 'https://lichess.org/training/Su7rN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SUApv', 'Rapid', 'OhneDichLohnenNicht', 2069, 'pablox55', 1762, 'd4,d5,c4,e5,cxd5,Qxd5,Nf3,e4,Ne5,f6,Nc3,Qe6,Qa4+,c6,Nc4,b5,Nxb5,cxb5,Qxb5+,Qc6,Qb3,Qb7,Qg3,Qb4+,Nd2,Qxd4,e3,Qe5,Qxe5+,fxe5,Nxe4,Bb7,Nc3,Nf6,Bd2,g6,O-O-O,Bg7,Nb5,Na6', 'Nd6+,Ke7,Nxb7', 'https://lichess.org/training/SUApv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sUCDL', 'Blitz', 'CM RobertoRochaMAO', 2210, 'dayunyor', 2223, 'e4,c6,Nf3,d6,d4,Qc7,Bd3,e5,dxe5,dxe5,Be3,Bg4,Nbd2,Nf6,h3,Bh5,c3,Nbd7,Qb3,Bc5,Nc4,Bxf3,gxf3,Rd8,O-O-O,O-O,Kb1,Kh8,Bc2,b5,Nd2,a5,a4,Bxe3,fxe3,Nc5,Qa2,Qb6,axb5,cxb5,Rhe1,a4,Nf1,Kg8,Rxd8,Rxd8,Rd1,Rxd1+,Bxd1,Qd6,Be2,Nb3,Qa3,Qd7,Qb4,Qxh3,Bxb5,Qxf3,Qxa4,Qd1+,Ka2,Nc1+,Ka3,Qxa4+,Kxa4,Ng4,Kb4,Kf8,Kc5,Ke7,Kd5,Kd8,b4,Kc7,Be8', 'Nf6+,Kxe5,Nxe8', 'https://lichess.org/training/sUCDL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SudM3', 'Rapid', 'FlyingLeopard', 1800, 'Petromichalich', 1909, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,Bc5,Nc3,h6,Nge4,Bb6,d3,O-O,O-O,Nxe4,dxe4,Qe7,Be3,Bc7,Qd3', 'Rd8,Nd5,cxd5', 'https://lichess.org/training/SudM3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SUDOi', 'Rapid', 'Si1ver', 1732, 'Taltics', 1687, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Qb3,Qxb3,axb3,Nge7,Bd3,Nf5,Bxf5,exf5,O-O,Be6,Be3,b6,Nbd2,Be7,c4,O-O,Rfc1,g5,Nxg5,cxd4,Nxe6,fxe6,Bh6,Rf7,cxd5,Nxe5,dxe6,Rf6,Bg5,Rxe6,Bxe7,Rxe7,Re1,Rae8,Nc4', 'Nf3+,gxf3,Rxe1+,Rxe1,Rxe1+', 'https://lichess.org/training/SUDOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SuEHV', 'Rapid', 'LordyLouL', 1774, 'daikiri55', 1764, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,c3,Nf6,d3,Nc6,Bg5,Be7,Nbd2,d5,O-O,dxe4,dxe4,O-O,Nc4,Qxd1,Raxd1,Nxe4,Bxe7,Nxe7,Ncxe5,Ng6,Nxg6,hxg6,Rfe1,Nc5,b4,Na4,c4,Rf6,Rd7,Rc8,Re7,Kf8,R1xe6,Rxe6,Rxe6,Kf7,Ng5+,Kg8,f4,Rd8,Kf1,Nc3,a3,Nb1,a4,Nd2+,Ke2,Nxc4,Re7,Kf8,Rxc7,Rd2+,Kf3,Nb2,a5,Rd3+,Kg4,b6,Rxa7,bxa5,bxa5,Nc4,g3,Ne3+,Kh4,Ng2+,Kh3,Nxf4+,Kg4,Ng2,Rf7+,Kg8,a6,Ne3+,Kh3,Rd5,a7,Ra5,Rb7,Rxg5,a8=Q+,Kh7,g4,Nxg4,Rb3', 'Nf2+,Kh4,Rg4#', 'https://lichess.org/training/SuEHV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SuFjI', 'Blitz', 'Karateka2007', 1557, 'Luanbortolini', 1638, 'e4,e5,Nf3,Nc6,Bb5,f6,Bxc6,dxc6,Nxe5,fxe5,Qh5+,Ke7,Qxe5+,Be6,d4,Nf6,b3,g6,Ba3+,Kf7,Bb2,Bg7,d5,Nh5,Qxe6+,Kf8,Bxg7+,Kxg7,dxc6,Re8,Qc4,Qh4,O-O,Rxe4,Qc3+,Kh6,cxb7,Rb8,Qxc7,Rf8,b8=Q', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/SuFjI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SuGeP', 'Rapid', 'domhabs', 1738, 'Alzis', 1955, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Bg5,Nbd7,Nc3,Qc7,Bb3,Nc5,Bxf6,Nxb3,axb3,gxf6,O-O,Be7,Nce2,a6,Nf4,b6,c3,Bb7,Re1,O-O-O,Nc2,Rhg8,h3,f5,exf5,d5,fxe6,Qxf4,exf7,Qxf7,Nd4,Bc5,Re5,Rde8,Qe2,Bxd4,cxd4,Rxe5,Qxe5,Qc7', 'Qe6+,Kb8,Qxg8+', 'https://lichess.org/training/SuGeP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SUh2Q', 'Rapid', 'Kanem', 1689, 'JHoWnzor', 1672, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,Qb3,Nh6,d4,Na5,Qb5,Nxc4,Qxc4,exd4,Bxh6,gxh6,Ne5,d5,exd5,Bf6,O-O,O-O,cxd4,b6,Nc6,Qd6,Nc3,Bf5,Nb5,Qf4,Ncxa7,Bxd4,Nc6', 'Bxf2+,Rxf2,Qxc4', 'https://lichess.org/training/SUh2Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SUhcb', 'Blitz', 'Lethgo', 1633, 'pipilipilav', 1635, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,e5,d5,O-O,Nge2,Nh5,Bd2,f5,exf5,Bxf5,Bxf5,Rxf5,f3,Nf4,Nxf4,exf4,O-O,Bd4+,Kh1,Qh4,Be1', 'Qxh2+,Kxh2,Rh5+,Bh4,Rxh4#', 'https://lichess.org/training/SUhcb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('suhq0', 'Blitz', 'lancerisimo', 2251, 'PedroMeneses', 1875, 'e4,g6,d4,Bg7,Nc3,d6,Be3,b6,f4,Ba6,Nge2,c5,Qd2,c4,O-O-O,b5,a3,Qa5,d5,b4,Nb1,c3,bxc3,bxa3,Bd4,a2,Bxg7,a1=Q,Qd4,Nf6,Bxh8,Nbd7,Kd2,Rb8,Bxf6,Nxf6,e5,Nxd5,exd6,e6,Qh8+,Kd7,Qxb8,Bxe2,Bxe2,Qxb1,Rxb1,Qxc3+,Kc1,Qe3+,Kd1', 'Nc3+,Ke1,Qxe2#', 'https://lichess.org/training/suhq0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SUhwA', 'Rapid', 'VinayMQC', 1994, 'Ballinas_2002', 2139, 'd4,d5,Bf4,Nf6,e3,Nc6,c3,g6,Be2,Bg7,Nf3,O-O,Nbd2,Re8,Ne5,Nxe5,Bxe5,Ne4,Bxg7,Kxg7,O-O,Nxd2,Qxd2,e5,f3,exd4,exd4,h5,Bd3,Qf6,Rae1,Bf5,Bxf5,Qxf5,Kf2,a5,Rxe8,Rxe8,Re1,Rxe1,Qxe1,Qc2+,Qe2,Qxe2+,Kxe2,Kf6,Ke3,Kf5,g3,b5,h3,g5,g4+,hxg4,hxg4+,Ke6,Kd3,f5,b3,fxg4,fxg4,Kd6,c4,bxc4+,bxc4,dxc4+,Kxc4,c6', 'a4,Ke6,Kc5', 'https://lichess.org/training/SUhwA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('suiLK', 'Rapid', 'Dragonbuster', 1747, 'nevlad', 1827, 'e4,c6,f4,d5,exd5,cxd5,Nf3,Bg4,Bb5+,Nc6,O-O,e6,h3,Bxf3,Qxf3,Nf6,d3', 'Qb6+,Kh1,Qxb5', 'https://lichess.org/training/suiLK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sUItc', 'Rapid', 'JORGELUIS08', 1731, 'leandrocostas', 1710, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d5,Bxc6+,bxc6,exd5,cxd5,Qe2,e4,d3,Qe7,Bg5,h6,Nxd5', 'exf3,Nxe7,fxe2', 'https://lichess.org/training/sUItc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SUJUE', 'Rapid', 'Jansoldier', 2100, 'locusolus', 2133, 'e4,c5,c4,Nc6,Nf3,e6,Nc3,Nf6,d3,a6,b3,Qa5,Bb2,Nd4,Be2,d6,O-O,Be7,Na4,Nxf3+,Bxf3,O-O,h3,Bd7,Nc3,b5,Ne2,bxc4,dxc4,Bc6,Ng3,Rad8,Qe2,Qc7,Rfd1,Rfe8,Rd2,d5,exd5,exd5,cxd5,Bb5,Qd1,Bd6,Nf5,Bd7,Bxf6,Bxf5,Bxd8,Qxd8,Re2,Rxe2,Qxe2,g6,Qxa6,Qf6,Re1', 'Bh2+,Kxh2,Qxa6', 'https://lichess.org/training/SUJUE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SuK13', 'Blitz', 'Jani-Kotnik', 2014, 'Shaw_Deckard', 2034, 'e4,d6,Nf3,c5,d4,Nf6,dxc5,Qa5+,Nc3,Qxc5,Bd3,Nc6,Be3,Qa5,Qe2,g6,h3,Bg7,O-O-O,O-O,g4,Be6,g5,Nd7,Bd2,Rfc8,Kb1,Qd8,h4,a6,h5,b5,hxg6,hxg6,Nd5,b4,Nh4,Bxd5,exd5,Nce5,f4,Nxd3,Qxd3,Nc5,Qh3,b3,axb3,a5,Nf3,a4,Bc3,axb3,Bxg7,Ra1+,Kxa1,Qa5+,Kb1,Qa2+,Kc1,Nd3+,Rxd3', 'Rxc2+,Kd1,Qa1#', 'https://lichess.org/training/SuK13');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SULRB', 'Rapid', 'priyanshumintu', 1655, 'povi77', 1660, 'd4,Nf6,d5,c5,Nc3,b6,e4,Bb7,e5,Ng8,e6,dxe6,Bb5+,Nd7,dxe6,fxe6,Nf3,Nf6,Ng5,Bd5,Nxd5,exd5,Ne6,Qc8,c4,a6,Bxd7+,Qxd7,cxd5,Nxd5,Nf4,Nxf4,Qxd7+,Kxd7,Bxf4,g6,Rd1+,Kc6,O-O,Bg7,b3,Rhf8,Bg3,Rad8,Rxd8,Rxd8,h4,Rd2,a4,b5,Bf4,Rd4,Be3,Rxh4,axb5+,axb5,Rc1,c4,b4,e6,g3,Rh5,Re1,Re5,f4,Re4,Kf2,Bd4,Bxd4,Rxd4,Rxe6+,Kd5,Ke3,c3', 'Re5+,Kd6,Kxd4', 'https://lichess.org/training/SULRB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SuM7l', 'Rapid', 'tjc28', 1732, 'HM5326', 1764, 'd4,d5,Nf3,Bf5,Bf4,e6,e3,a6,c4,Bb4+,Nbd2,Bxd2+,Qxd2,dxc4,Bxc4,Nf6,Ne5,Ne4,Qb4,Nc6,Qxb7,Na5,Bb5+,axb5,Qxb5+,c6,Nxc6,Nxc6,Qxc6+,Ke7,Rc1,Qa5+,Ke2,Bg4+,Kf1,Rac8,Qb7+,Kf6,Rxc8,Qd2,Be5+,Kg6,Qxe4+,f5,Qc2', 'Be2+,Kg1,Qe1#', 'https://lichess.org/training/SuM7l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SuMAM', 'Blitz', 'schokoelch', 2074, 'Hercegovina', 2178, 'd4,e6,Nf3,d5,c3,c5,e3,Nc6,Bd3,Bd7,O-O,Qb6,Nbd2,Nf6,Rb1,a5,a3,c4,Bc2,Bd6,e4,Bf4,exd5,exd5,Re1+,Be6,Nf1,Qc7,Ng5,Bxg5,Bxg5,O-O-O,Ne3,h6,Bxf6,gxf6,Bf5,Rde8,Bxe6+,fxe6,b3,b5,bxc4,bxc4,Rb5,Kd7,Rc5,Rb8,Qg4,f5,Qg7+,Kd6,Qf6,Kd7,Nxd5,Qd6,Qf7+,Kd8,Rxe6', 'Rb1+,Re1,Rxe1#', 'https://lichess.org/training/SuMAM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SuMPa', 'Rapid', 'mentalthune', 1696, 'Theo_V_Y_666', 1720, 'Nf3,d5,c4,e6,b3,Nf6,e3,Bd6,g3,Bd7,Bg2,O-O,O-O,Na6,d4,c5,a3,Rc8,Bb2,cxd4,exd4,dxc4,bxc4,Rxc4,Ne5,Bxe5,dxe5,Ne4,Qd3,Ra4,Bxe4,Nc5,Bxh7+,Kh8,Qc2,Qb6,Bd3,Nxd3,Qxd3,Qxb2,Nc3,Rxa3,Rxa3,Qxa3,Qxd7,Qxc3,Qxb7,a5,Qe4,Qb4,Qe2,a4,Ra1,Ra8,Qh5+,Kg8,Qd1,a3,Qc2,Qb2', 'Qxb2,axb2,Rxa8+,Kh7,Rb8', 'https://lichess.org/training/SuMPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sumr9', 'Classical', 'Nikolay1939', 1633, 'tykhonchuk', 1627, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Nge7,Nc3,g6,Bg5,Bg7,Nxc6,bxc6,O-O,O-O,f4,Re8,f5,Qb6+,Kh1,Qxb2,Na4,Qb4,Bb3,exf5,Rb1,Qxe4,Re1,Qg4,Qxg4,fxg4,Bxe7,d5,c4,Be6,cxd5,cxd5,Bg5,Rec8,Rbd1,h6,Bf4,h5,Bxd5', 'Bxd5,Rxd5,Rc4,g3,Rxa4', 'https://lichess.org/training/sumr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('suNYX', 'Blitz', 'Sidsimba', 1548, 'Eldrail', 2493, 'e4,c5,Nc3,e6,Nf3,Nc6,d3,Nf6,Bg5,Be7,Be2,O-O,Bxf6,Bxf6,Qd2,d5,exd5,exd5,O-O-O,b5,Nxb5,Rb8,Nc3,Qb6,b3,Qa5,Nxd5', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/suNYX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SUo7N', 'Bullet', 'FM Nefalo', 2339, 'GENCELI085', 2349, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be6,Be3,Nc6,Qd2,Be7,h4,O-O,Bd3,Ne5,Ng5,Nxd3+,Qxd3,g6,Nxe6,fxe6,h5,Qe8,hxg6,Qxg6,Qb5,b6,O-O-O,e5,Rh3,Kh8,Rdh1,Rf7,Qd5,Raf8,Rh6,Qg7,Qe4,Bg5,Rxh7+,Qxh7,Rxh7+,Rxh7,Bxg5', 'Rh1+,Kd2,Rxf2+,Kd3,Rd1+,Kc4,d5+,Qxd5,Rxd5', 'https://lichess.org/training/SUo7N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sUOi6', 'Rapid', 'KrisOP', 1726, 'mvandrade', 1685, 'e4,d5,exd5,Qxd5,Nf3,a6,Nc3,Qd6,Bc4,Nf6,h3,b5,Bb3,g6,a3,Bg7,d3,O-O,Be3,Bb7,Qd2,Nd5,Bh6,Nxc3,Bxg7,Kxg7,Qxc3+,Kg8,Qd2,Bd5,Bxd5,Qxd5,O-O-O,Nc6,Kb1,a5,Qe2,b4,axb4,axb4,b3,Nd4,Qe4,Qxe4,dxe4,Nxf3,gxf3,c5,h4,Ra5,h5,Kg7,hxg6,hxg6,Rd7', 'Rfa8,Kc1,Ra1+,Kd2,Rxh1', 'https://lichess.org/training/sUOi6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SUoSH', 'Rapid', 'zarathustra7', 2113, 'lbauchwitz', 1807, 'e4,a6,d4,b5,Nf3,Bb7,Bd3,b4,O-O,e6,c3,c5,cxb4,cxb4,d5,Nf6,Bg5,Be7,d6,Bxd6,Be2,Be7,Nbd2,Nxe4,Nxe4,Bxe4,Bxe7,Qxe7,Nd4,Nc6,Re1,Qg5,Nf3,Bxf3,Bxf3,Rd8,Qa4,Qa5', 'Bxc6,Qxa4,Bxa4', 'https://lichess.org/training/SUoSH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('suoWl', 'Rapid', 'shekari1348', 1776, 'Cherche', 1783, 'e4,e5,Bc4,Ne7,Qh5,Ng6,Nf3,d6,Ng5,Be6,Bxe6,fxe6,Nxe6,Qd7,Nxf8,Kxf8,O-O,Nc6,c3,Nf4,Qf3,Qf7,d3,Ke7,Bxf4,exf4,Nd2,Raf8,Rae1,Ne5,Qe2,Qg6,d4', 'f3,Nxf3,Nxf3+,Kh1,Nxe1', 'https://lichess.org/training/suoWl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('supfq', 'Classical', 'fosa', 1617, 'EirikCarlsen10', 1630, 'e4,e5,d3,d5,exd5,Bc5,Be3,Qxd5,Nc3,Qc6,d4,exd4,Bxd4,Bxd4,Qxd4,Nf6', 'Bb5,O-O,Bxc6', 'https://lichess.org/training/supfq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('suPP1', 'Rapid', 'Sciavash', 1713, 'vaggen', 1663, 'c4,Nc6,a3,b6,d4,Ba6,e4,e5,d5,Nd4,Nc3,Be7,Nf3,d6,Nxd4,exd4,Qxd4,Bf6,Qd3,Bg5,f4,Bh4+,g3,Bf6,Bd2,h5,b4,h4,g4,Bc8,Rc1,Bxg4,h3,Bh5,Rc2,Qd7,Rg1,g6,Be3,Ne7,Bd4,Bxd4,Qxd4,O-O,f5,Nxf5,exf5,Rfe8+,Kd2,Qxf5,Kc1,a5,b5,Re1+,Kb2,Rxf1,Rgg2,Rf4,Qd2,Rxc4,Rf2,Qxh3,Qg5,Qg4,Qf6,Rf8,Rce2,Qd4,Qxd4,Rxd4,Re7,Rc4,Ne4,h3,Nf6+,Kg7,Nd7,g5,Nxf8,Kxf8,Re3,g4,Rg3,Rc5,Rf5,h2,Rxh5,Rxd5,Rxh2,Rxb5+,Kc3,a4,Rxg4,Rb3+,Kc4,Rxa3,Rb2,Rf3,Ra2,a3,Kb4,Ke7,Rxa3', 'c5+,Ka4,b5+,Kxb5,Rxa3', 'https://lichess.org/training/suPP1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('suq3J', 'Rapid', 'md550022', 1890, 'Hojatgh', 1658, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,h6,d4,exd4,cxd4,Nxd4,Nxd4,Qf6,Be3,d6,Nc3,Ne7,Ndb5,Bxe3,fxe3,O-O,Nxc7,Rb8,N7d5,Nxd5,Bxd5,Be6,Rf1,Qh4+,g3,Qxh2,Ne2,Bg4,Rf2,Qh5,Kd2,Rbc8,Rc1,Qe5,Rxc8,Rxc8,Bxf7+,Kh8,Qb3,Qxe4,Bd5,Qg6,Nf4,Qe8,Bf7,Qc6,Rf1,Bf5,g4,Bh7,Bg6,Bxg6,Nxg6+,Kh7,Qd3', 'Qg2+,Kd1,Qxg4+', 'https://lichess.org/training/suq3J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SUrek', 'Rapid', 'flyman2', 1930, 'mohsen_63', 1916, 'd4,d5,c4,dxc4,Nf3,Nf6,Nc3,e6,e4,Nc6,Bxc4,e5,dxe5,Qxd1+,Kxd1,Ng4,Be3,Ncxe5,Nxe5,Nxe5,Bb3,Bg4+,f3,O-O-O+,Ke2,Bh5,Nd5,c6,Rac1,Kb8,Bf4,f6,Ne3,Ka8,Rhd1,Bb4,a3,Ba5,Nf5,g5,Bxe5,fxe5,Ng7,Bg6,Ne6,Rxd1,Rxd1,g4,Rd7,gxf3+,gxf3,a6,Nc5,Rb8,Nd3,Re8,Bf7,Bxf7,Rxf7,h5,Rh7,Bb6,Rxh5,Rg8,Nxe5,Rg2+,Kd3,Rxb2,f4,Rb3+,Kc4,Rxa3,f5,Ra4+,Kd3,Rd4+,Ke3,a5,Rh8+', 'Rd8+,Kf3,Rxh8', 'https://lichess.org/training/SUrek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SUSFM', 'Rapid', 'ReyGamboa', 1839, 'Ahmed_Tayel', 1840, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,O-O,e3,d6,Nf3,h6,Bd3,Nh5,Bg3,Nxg3,hxg3,Kh7,Qb3,Nc6,c5,dxc5,Ng5+,Kg8,Bxg6,cxd4,Bxf7+,Kh8,O-O-O,e5,Nce4,Bf5,Ne6,Bxe6,Qxe6,Qe7', 'Rxh6+,Bxh6,Qxh6#', 'https://lichess.org/training/SUSFM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sushl', 'Rapid', 'Rost18', 1670, 'ameer_0073R', 1622, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,Bg5,Be7,Bc4,O-O,O-O,Re8,Qf3,Bb7,Rad1,Bc8,Qg3,d6,f4,exf4,Rxf4,d5,Bxf6,Bxf6,exd5,Be5,dxc6,Qb6+,Qf2', 'Bxf4,Qxb6,axb6', 'https://lichess.org/training/Sushl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('susns', 'Blitz', 'alireza2018', 2009, 'goozar', 2009, 'd4,e6,c4,c6,Nc3,d5,Bf4,dxc4,e4,b5,a4,Bd7,axb5,cxb5,d5,Bb4,dxe6,Bxe6,Qxd8+,Kxd8,O-O-O+,Ke7,Nxb5,Nc6,Nc7,Rc8,Nd5+,Bxd5,exd5,Na5,Nf3,Nf6,d6+,Ke6,Nd4+,Kd7,g3,Rhe8,Bh3+,Kd8,Bxc8,Kxc8,d7+,Nxd7,Nc2,Nb3+,Kb1,a5,h4,Ndc5,Ne3,Nd2+,Ka2,Ncb3,Nc2,Kb7,Nxb4,axb4,Bxd2', 'Ra8+,Kb1,Ra1+,Kc2,Nd4#', 'https://lichess.org/training/susns');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sUsXY', 'Rapid', 'Galmonte', 1949, 'kokovtsev', 1682, 'e4,c5,Nf3,Nc6,c3,d5,e5,Bg4,d4,cxd4,cxd4,Bxf3,gxf3,e6,Bb5,Bb4+,Nc3,Ne7,a3,Ba5,Qd3,a6,Bxc6+,Nxc6,h4,h6,f4,b5,b4,Bb6,Be3,Qe7,Rd1,O-O,f5,exf5', 'Nxd5,Qe6,Nxb6', 'https://lichess.org/training/sUsXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SUT6l', 'Classical', 'shayraad', 1904, 'nassargad', 1883, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d6,Nbd2,Nbd7,Be2,O-O,Kf1,Nh5,Bg3,e5,dxe5,Nxe5,Nxe5,Nxg3+,hxg3,Bxe5,f4,Bf6,Kf2,Kg7,Ne4,Bxb2,Ng5,h6,Rb1,Bf6,Rxh6,Kxh6', 'Qh1+,Bh3,Qxh3+,Kg7,Qh7#', 'https://lichess.org/training/SUT6l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Suu6E', 'Rapid', 'FrereKeiser', 1756, 'Meisam71', 1750, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,c3,dxc3,Nxc3,d6,O-O,Be6,Nd5,Qd7,a3,O-O-O,b4,Kb8,b5,Ne5,Nxe5,dxe5,Be3,Ne7,Qa4,b6,Rad1,Nxd5,exd5,Bf5,Qa6,Qc8,Qa4,Bd6,f4,exf4,Bxf4,Bg6,Bxd6,Rxd6,Qb3,Re8,a4,Qb7,Qc3,f6,Rde1,Red8,Re7,R6d7,Rxd7,Rxd7,Re1,Qc8,a5,bxa5,Qxa5,Qb7,Bd3,Qb6+', 'Qxb6+,cxb6,Bxg6', 'https://lichess.org/training/Suu6E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sUWgh', 'Blitz', 'blitzordddd', 2634, 'IM Yarebore', 2758, 'e4,e6,d4,d5,f3,Nf6,Nc3,c5,exd5,Nxd5,Nxd5,exd5,Ne2,Nc6,Be3,Qb6,dxc5,Bxc5,Bxc5,Qxc5,Qd2,O-O,O-O-O,Bf5,Nf4,Nb4,Bd3,Bxd3,Nxd3,Nxa2+,Kb1,Qc4,Qa5,Rac8,Rd2,Nc3+,Qxc3,Qxc3,bxc3,Rxc3,Re1,Rfc8,Re7,Rb8,Rde2,Kf8,Rd7,Rc6,Ne5,Rf6,Nxf7,Rxf7,Rxd5,Rc7,Red2,Ke7,Kb2,Re8,h4,Kf7,Rf5+,Kg8,Rfd5,h6,h5,Re6,g4,Rb6+,Kc1,Rf6,Rd8+,Kh7,Ra8,g6,Rdd8,gxh5,Rh8+,Kg6,Rag8+,Kf7,Rf8+,Ke6,Rxf6+,Kxf6,Rxh6+,Ke5,Rxh5+,Kd4,Rf5,Kc3,g5,Rh7,Rd5,Rh1+,Rd1,Rh2,Rd3+,Kc4,Rd7,b5,Rc7+,Kd5,Rxa7,Rg2,f4,b4,Kb2,Kc4,Rc7+,Kd5,Kb3,Rg4,Rf7,Ke6,Rf6+,Kd5,Kxb4,Rg2,c4+,Kd4,c5,Rb2+,Ka3,Rb8,c6,Kc3,c7', 'Ra8+,Ra6,Rxa6#', 'https://lichess.org/training/sUWgh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sUWr1', 'Rapid', 'adrien35', 2244, 'ILoveAmer', 2172, 'd4,d5,c4,e6,Nc3,Be7,e4,dxe4,Nxe4,Nd7,Nf3,Ngf6,Nc3,b6,Bd3,Bb7,O-O,O-O,Re1,c5,d5,exd5,cxd5,Nxd5,Nxd5,Bxd5,Bxh7+,Kxh7,Qxd5,Nf6,Qf5+,Kg8,Bg5,Re8,Rad1,Qc8,Nh4,Qc6,Re5,Rad8,Rde1,Nd5,Qe4,f6,Re6,Qd7,Nf5,fxg5,Qe5,Nf6', 'Nxe7+,Rxe7,Rxe7', 'https://lichess.org/training/sUWr1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sUwT9', 'Classical', 'kramavarma', 1676, 'Brayan-Jerez', 1658, 'd4,Nf6,Nf3,e6,c4,d5,e3,Bb4+,Bd2,Qe7,Nc3,c6,cxd5,cxd5,Bb5+,Nbd7,Ne5,O-O,O-O,Nxe5,dxe5,Ne4,Nxe4,dxe4,Bxb4,Qxb4,Qe2,a6,Bc4,Bd7,a3,Qc5,Rac1,Rac8,Qc2,Rc7,Qxe4,f5,Qd3,Rfc8,Bxe6+,Bxe6,Rxc5,Rxc5,f4,Rc1,Rxc1,Rxc1+,Kf2,Bc4,Qd8+,Kf7,Qd7+,Kg6,g4,Rf1+,Kg3,Rg1+,Kh3', 'Bf1+,Kh4,Rxg4#', 'https://lichess.org/training/sUwT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('suy3k', 'Rapid', 'JMAJMA', 1814, 'CarpInBraces', 1894, 'Nf3,d5,d4,c5,e3,Nc6,c4,cxd4,exd4,Bg4,Be3,e6,cxd5,exd5,h3,Bh5,Be2,Nf6,O-O,Bb4,a3,Bd6,Nc3,O-O,Bg5,Be7,Re1,h6,Bxf6,Bxf6,Qb3,Bxf3,Bxf3,Nxd4,Qxd5,Qxd5,Bxd5,Nc2,Rab1,Nxe1,Rxe1,Bxc3,bxc3,Rab8,Re7,Rfe8', 'Bxf7+,Kf8,Rxe8+,Rxe8,Bxe8', 'https://lichess.org/training/suy3k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('suZI7', 'Rapid', 'marconefsa', 1838, 'Mohamed-Degham10', 1801, 'c4,e5,Nc3,f5,d4,e4,Bf4,Nf6,f3,Nh5,Bd2,Qh4+,g3,Nxg3,hxg3', 'Qxg3#', 'https://lichess.org/training/suZI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SuzVD', 'Rapid', 'sclerantus', 2185, 'dogs0204', 2074, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Nf3,Ngf6,Nxf6+,Nxf6,c3,Be7,Bd3,O-O,O-O,b6,Ne5,Bb7,Bg5,h6,Bh4,c5,Re1,cxd4,cxd4,Nd7,Bxe7,Qxe7,Be4,Bxe4,Rxe4,Nxe5,dxe5,Rfd8,Rd4,Rxd4,Qxd4,Rd8,Qc3,Rd5,Rc1,Qg5,Re1,h5,Kf1,h4,h3,Rc5,Qe3,Qf5,Qe4,Qg5,Qe3,Qh5,Qe4,Rd5,f3,Qg5,Qe3,Qg3,Rc1,Rxe5,Rc8+,Kh7,Qd3+,g6,Qc3,Qh2,Kf2,Qg3+,Kf1,Kh6,Rc4,f6', 'Rg4,Qh2,Rxh4+', 'https://lichess.org/training/SuzVD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SuZXI', 'Rapid', 'dancingmouse', 2221, 'Gary4713', 2136, 'e4,c5,b3,Nc6,Bb2,d6,Bb5,Qb6,Bxc6+,Qxc6,d3,Nf6,Nd2,Bg4,Ne2,g6,O-O,Bg7,h3,Be6,f4,O-O-O,f5,gxf5,exf5,Bd5,Nf4,Rhg8,c4,Bxg2,Nxg2,Nh5,Bxg7,Rxg7,Ne4,Ng3,Rf4,Rdg8,Qf3,Nxe4,dxe4,Rxg2+,Qxg2,Rxg2+,Kxg2,f6,Rd1,Kc7,Rd3,Qa6,a4,Qc6,Re3,Kb6,Rh4,Qe8,Kh2,Qf7,Rg3,h5,Rg6,Ka5,Rxh5,Kb4,Rh8,Kxb3,Rb8,b6,a5,Qxc4,axb6,axb6,Rxb6+,Kc3,Rg3+,Kd4,h4,Ke5,Rb7,e6,Re7,Kxe4', 'Rg4+,Kxf5,Rxc4', 'https://lichess.org/training/SuZXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sv6ts', 'Blitz', 'whimoon', 1573, 'greh_vya', 1527, 'e4,b6,d3,d6,f4,e6,Be2,Nd7,Nf3,Ne7,O-O,Bb7,c4,g6,Nc3,Bg7,Rf2,a6,Be3,h6,Qd2,f5,exf5,Nxf5,Raf1,Qe7,g4,Nxe3,Qxe3,O-O-O,Kh1,Rdf8,Qd2,Bd4,Rg2,Bg7,Kg1,e5,fxe5,Bxf3,Bxf3,Bxe5,Nd5,Qd8,Qb4,Bd4+,Kh1,Bc5,Qa4,a5,Qc6,Nb8,Nxb6+,Bxb6,Qb7+,Kd7,Bc6+,Ke7', 'Re2+,Be3,Rxe3#', 'https://lichess.org/training/sv6ts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sv7Nn', 'Rapid', 'Lucertolo', 1999, 'Afrazat53', 2008, 'e4,c5,Nc3,e6,f4,d5,e5,d4,Bb5+,Bd7,Bxd7+,Qxd7,Ne4,f5,exf6,Nxf6,Nxf6+,gxf6,Qh5+,Qf7,Qf3,Nc6,d3,O-O-O,Bd2,e5,O-O-O,Qxa2,Be1,Bh6,g3,f5,Bf2,e4,dxe4,fxe4,Qxe4,Rhe8,Qd3,Nb4,Qf5+,Kb8,Qxc5,Qa1+,Kd2,Qxb2,Nf3,Bg7,Ne5,Na2,Rb1', 'Qc3+,Qxc3,dxc3+', 'https://lichess.org/training/Sv7Nn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sv7yZ', 'Rapid', 'goranveliki', 2042, 'korvmedmos97', 2059, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,a6,a4,e5,O-O,Be7,h3,O-O,d3,Nc6,Bg5,Be6,Bxe6,fxe6,Qd2,Nd4,Nxd4,exd4,Ne2,b5,axb5,axb5,Rxa8,Qxa8,Nf4,Qc8,Re1', 'Nxe4,Bxe7,Nxd2', 'https://lichess.org/training/Sv7yZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sv83w', 'Bullet', 'mjantoine', 1668, 'dolita', 1865, 'd4,d6,c4,Nf6,Nc3,g6,e4,Bg7,f4,b6,Nf3,Bb7,Bd3,c6,O-O,O-O,e5,Ne8,Be4,d5,Bd3,e6,Be3,a6,g4,b5,c5,b4,Ne2,a5,f5,exf5,gxf5,Ba6,fxg6,hxg6,Bxa6,Nxa6,Qd3,Nec7,Bg5,f6,exf6,Rxf6,Bxf6,Qxf6,Ne5,Qg5+,Qg3,Qxg3+,hxg3,Bxe5,dxe5,Re8,Rf6,Rxe5,Nd4,Nxc5,Raf1,N7e6,Nxc6,Re2,Ne7+,Kh7,Rf7+,Kh6,Nxd5,Ng5,Rc7,Nce4,Rf8', 'Nh3+,Kf1,Nxg3#', 'https://lichess.org/training/Sv83w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SV8Tr', 'Rapid', 'Modnar', 1978, 'enga_1971', 1919, 'c4,e5,g3,Bc5,Bg2,Ne7,d3,Nbc6,Nd2,O-O,Ne4,Bb4+,Bd2,Bxd2+,Qxd2,Nd4,e3,Ndf5,Ne2,c6,f4,f6,fxe5,fxe5,O-O,d5,cxd5,cxd5,N4c3,Be6,d4,e4,Rac1,Nc6,a3,Na5,Nxe4,dxe4,Bxe4,Nd6,Bg2,Qg5,Rc5,Rxf1+,Bxf1,Qf6,Rxa5,Ne4,Qe1,Rf8,Rxa7,Bc4,Rxb7,Qf3,Nf4,Bxf1,Qxf1,Qxe3+,Kg2,Qxd4,Rb4,Qd2+,Qe2,Qxe2+,Nxe2,Rf2+,Kh3,Rxe2,a4,Nc5,Rc4,Nb3,Rc3,Rxb2,Rc8+,Kf7,Rb8,Rb1,a5,Nd2', 'Rxb1,Nxb1,a6,Nc3,a7', 'https://lichess.org/training/SV8Tr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sv9e0', 'Blitz', 'usommer', 2204, 'gawagei', 2190, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,h6,g4,g5,Bg2,e6,O-O,Be7,Nce2,Nbd7,Ng3,Qc7,Be3,Ne5,b3,b5,Qd2,Bb7,a4,bxa4,Rxa4,Rc8,c4,h5,gxh5,Nxh5,Bxg5,Nf6,Be3,Rg8,Rfa1,d5,exd5,exd5,cxd5,Nxd5,Ndf5,Nxe3,Qxe3,Bc5,Qf4,Bxg2,Kxg2,Qc6+,f3,Rd8,Re1,f6,Rxe5+,fxe5,Qxe5+,Kf8,Rc4', 'Rd2+,Kf1,Qxf3+,Ke1,Qd1#', 'https://lichess.org/training/sv9e0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sVA98', 'Rapid', 'iammagnetic', 2047, 'okgo', 2080, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,Re1,Nc5,Bxc6,dxc6,Nxe5,Be7,d4,Nd7,Qe2,Nxe5,Qxe5,f6,Qh5+,g6,Qe2,Kf7,Bh6,Bb4', 'Qc4+,Qd5,Qxb4', 'https://lichess.org/training/sVA98');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVaGn', 'Rapid', 'Barriolas', 2052, 'JAKUB94', 2034, 'Nf3,d5,c4,d4,e3,Nc6,b3,e5,exd4,exd4,Bb2,Nf6,g3,Bg4,Bg2,Qe7+,Kf1,Qd7,h3,Bf5,Na3,O-O-O,d3,h5,Nc2,Bb4,Nfxd4,Nxd4,Nxd4,Bc5,Nxf5,Qxf5,Qf3,Qxf3,Bxf3,Rxd3,Kg2', 'Rd2,Rhf1,Rxb2', 'https://lichess.org/training/SVaGn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sVCrC', 'Rapid', 'LM PeshkaCh', 1886, 'iceman84', 1961, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Bc4,Nf6,Nc3,Be7,Nf5,Bxf5,exf5,O-O,O-O,Qd7,Qf3,Nc6,Bg5,Ne5,Qe2,Qxf5,Bxf6,Bxf6,Nd5,Nxc4,Nxf6+,Qxf6,Qxc4,c6,c3,d5,Qb3,b6,Rad1,Rfd8,Rfe1,h6,a4,Qf5,h3,c5,Re7,c4,Qb5,Qf6,Ree1,a6,Qb4,Rd6,a5,b5,Qc5,Rad8,Qe3,Re6,Qc5,Rxe1+,Rxe1,d4,cxd4,Qxd4', 'Re8+,Rxe8,Qxd4', 'https://lichess.org/training/sVCrC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SvcyW', 'Blitz', 'SatrancDunyam-YT', 2277, 'Oonchgoo', 2240, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,h3,a6,Nf3,b5,a3,Bb7,O-O,e6,Bg5,Bd6,Nc3,Nbd7,Qd2,O-O,Rfe1,Nb6,b3,Rc8,a4,Bb4,Qf4,Bxc3,Qh4,h6,Bxh6,gxh6,Qxh6,Bxa1,Ng5,Re8,Bh7+,Nxh7', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/SvcyW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVFJP', 'Rapid', 'GroenGeleOoievaar', 1652, 'stefan62', 1627, 'c4,Nf6,Nc3,g6,d4,Bg7,Nf3,O-O,e4,e6,e5,Ne8,Bd3,d6,O-O,dxe5,dxe5,Nc6,Bg5,f6,exf6,Bxf6,Bxf6,Nxf6,Re1,Nd4,Nxd4,Qxd4,Nb5,Qc5,Rb1,a6,b4,Qe7,Nd4,c5,bxc5,Qxc5,Nxe6,Bxe6,Rxe6,Rad8,Qf3,Nh5,Qe3,Qa3,Re4,Qxa2,Rd4,Rxd4,Qxd4,Nf4,Qb2', 'Qxb2,Rxb2,Nxd3', 'https://lichess.org/training/SVFJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sVFpQ', 'Bullet', 'Xilef92', 1921, 'Alirezaaminiesf', 1844, 'Nf3,d5,d4,Nc6,Bf4,e6,e3,Bd6,Bg3,Bxg3,hxg3,Bd7,c3,Qf6,Bd3,e5,dxe5,Nxe5,Nxe5,Qxe5,Nd2,Nf6,Nf3,Qd6,Bc2,O-O-O,Qe2,Bg4,O-O-O,Bxf3,gxf3,Qb6,Qd3,Qa5,Kb1,h6,g4,c5,g5,hxg5,Qf5+,Kb8,Qxg5,Rxh1,Rxh1,Rg8,Qe5+,Ka8,Qe7,d4,exd4,cxd4,cxd4,Qd2,Qxf7,Rc8,Be4,Nxe4,fxe4', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/sVFpQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('svfrE', 'Rapid', 'brandin', 1629, 'VictorCarballo1', 1682, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Nc3,d4,Bxd7+,Nxd7,Ne4,Ngf6,d3,Be7,Bg5,Nxe4,Bxe7,Qxe7,dxe4,Qxe4+,Qe2,Qxe2+,Kxe2,O-O-O,Kd3,Rhe8,Rhe1,b5,a4,a6,axb5,axb5,Ra8+,Kc7', 'Rxe8,Rxa8,Rxa8', 'https://lichess.org/training/svfrE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVhaI', 'Rapid', 'peletis', 1970, 'dannypgh', 1981, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Qd2,O-O,f3,Nbd7,O-O-O,e5,dxe5,dxe5,Bh6,Qe7,Bxg7,Kxg7,h4,Nc5,g4,Nxg4,fxg4,Bxg4,Be2,Rad8,Qe3,Rxd1+,Bxd1,Bxd1,Nxd1,Rd8,Nf3,Qd6,Nc3,Qb6,Qe2,f6,Rd1,Re8,Qb5,Qxb5,Nxb5,Nxe4,Rd7+,Kh6,Rxc7,Ng3,Rxb7,e4,Ne1,e3,Nc3,f5,Rxa7,f4,Rf7,Nh5,Kd1,g5,hxg5+,Kxg5,Rxh7,Rd8+,Ke2,Rd2+,Kf3', 'Rf2+,Ke4,Nf6+,Kd4,Nxh7', 'https://lichess.org/training/SVhaI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVJm5', 'Rapid', 'densuto', 2243, 'Mixalloff', 1975, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,e5,Qd3,Nf6,Bg5,Be7,O-O-O,h6,Bxf6,Bxf6,Qxd6,Be7,Qd3,O-O,Nxe5,Bg5+,Kb1,Qa5,Nxc6,bxc6,f3,Rab8,h4,Rfd8,Qc4,Bf6,Rxd8+,Rxd8,Qa4', 'Bxc3,Qxa5,Bxa5', 'https://lichess.org/training/SVJm5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVkAN', 'Rapid', 'SurgeonDr', 1932, 'aleks_koljada', 1970, 'e4,c5,Nc3,d6,g3,Nf6,h3,e6,Bg2,a6,f4,Nbd7,d4,cxd4,Qxd4,Qc7,Nf3,Be7,O-O,d5,Kh2,Bc5,Qd3,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qe2,O-O,Ne5,Rb8,g4,b5,g5,Nd7,Ng4,Bb7,Bxb7,Rxb7,Bd2,Be7,Bc3,Bxg5,Rf3,Bxf4+,Kh1,b4,Bd4,e5,Bf2,h5,Rxf4,exf4,Nh6+,gxh6,Rg1+,Kh7', 'Qe4+,Kh8,Bd4+,Ne5,Bxe5+,Qxe5,Qxe5+', 'https://lichess.org/training/SVkAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sVLCq', 'Rapid', 'hkrmn', 1824, 'krake', 1923, 'd4,Nf6,Nf3,e6,Bg5,Be7,Nbd2,d5,e3,O-O,Bd3,h6,Bh4,Nbd7,c4,c5,cxd5,Nxd5,Bxe7,Qxe7,Nb3,a6,O-O,b5,dxc5,Nxc5,Nxc5,Qxc5,Rc1,Qe7,Qb3,Bb7,Rfd1,Rac8,Ne5,Qg5,Nf3,Qg4,h3,Qh5,Kh2,f5,a4,b4,e4,fxe4,Bxe4,Rxc1,Rxc1,Rf4,g4,Qf7,Bxd5', 'Bxd5,Rc8+,Kh7', 'https://lichess.org/training/sVLCq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('svlvY', 'Rapid', 'merab1993', 1848, 'tonoriko', 2014, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,Nf6,Bg5,Be7,Bxf6,Bxf6,e5,dxe5,Qc5,Bxf3,gxf3,Qd6,Qxd6,cxd6,Nc3,O-O,Nd5,Bg5,Rfd1,Rfd8,Nc7,Rac8,Nb5,Rxc2,Nxd6,Rxb2,Nc4,Rxd1+,Rxd1,Rxa2,Nxe5,g6,Rd7,f6,Nf7,Bh4,Nh6+,Kh8,Ng4,f5,Ne5,Bxf2+,Kf1,b6,Nf7+,Kg8,Ng5,Be3,Nxh7,Rf2+,Ke1,Rxf3,Ke2,Rh3,Nf6+,Kf8,Rxa7,Bc5,Nd7+,Ke8,Nf6+,Kd8,Ra8+,Ke7,Nd5+,Ke6', 'Nf4+,Kf6,Nxh3', 'https://lichess.org/training/svlvY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sVmr6', 'Rapid', 'Jonaaaaaa', 2060, 'JJJome95', 2286, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,O-O,Nbc6,c3,Bg4,h3,Bh5,Nbd2,Qd7,Re1,O-O-O,a4,Bg6,Qc2,Bxd3,Qxd3,Ng6,b4,Kb8,b5,Na5,Ba3,Bxa3,Rxa3,f6,c4,Nxc4,Nxc4,dxc4,Qxc4,Rhe8,Rxe8,Rxe8,a5,Nf4,a6,Qd5,Qb4,b6,Qd2,g5,Qb4,Qd6,Qxd6,cxd6,Re3,Rxe3,fxe3,Nd5,Kf2,Nc3,Kg3,h5,h4,Ne4+,Kh3', 'g4+,Kh2,gxf3', 'https://lichess.org/training/sVmr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SvNIz', 'Rapid', 'UTRC', 1904, 'mikeyescas', 2105, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,f4,Ne7,Nf3,Nd7,a3,Qb6,b4,a5,c3,axb4,cxb4,Nf5,Be3,Bxb4+,Nc3,Rxa3,Rxa3,Bxa3,O-O,O-O,Bf2,c5,Ne2,c4,Qxa3,Qc6,Rc1,b6,g4,Nh6,h3,Ra8,Qc3,f5,gxf5,Nxf5,Ng5,h6,Nf3,Ra2,Kf1,Qa4,Rb1,Kf7,Qc1,Rc2,Qd1,Qa2,Ne1', 'Rxe2,Qxe2,Qxb1', 'https://lichess.org/training/SvNIz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVO00', 'Blitz', 'fog_ayaan', 1747, 'NM AlexaMtz', 2222, 'd4,d6,Bf4,Nf6,e3,g6,Nf3,Bg7,c4,O-O,Nc3,Nbd7,Qc2,c6,Bd3,Re8,O-O,e5,dxe5,dxe5,Bg3,Nh5,e4,Nxg3,fxg3,f6,Kh1,a5,a4,Nc5,Be2,Be6,Rad1,Qc7,Rfe1,Rad8,Rxd8,Rxd8,Rd1,Bh6,Rxd8+,Qxd8,Nh4,Qd4,Nf3,Qf2', 'Nd1,Qxe2,Qxe2', 'https://lichess.org/training/SVO00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVO95', 'Rapid', 'Michael-Westen', 2324, 'marbo', 2257, 'e4,d5,exd5,c6,dxc6,Nxc6,Nc3,e5,g3,Bc5,Bg2,Nf6,h3,Qb6,Qe2,O-O,Na4,Qa5,Nxc5,Qxc5,d3,Nd4,Be3,Nxc2+,Kf1,Nxe3+,Qxe3,Qb4,Qxe5,Re8,Qc3,Qb6,Re1,Be6,Nf3,Rad8,Kg1,Nd5,Qd4,Qa6,Qh4,Qxd3,Kh2,Nf6,Ne5,Qc2,Rhf1,Qxb2,g4,Bxa2,g5,Nd5,Nxf7,Kxf7,Qxh7,Ne7,Re3,Bd5,Bxd5+,Rxd5,g6+,Kf6,Qh4+,Kxg6,Qg4+,Kf7,Qe6+,Kf8,Rf3+,Rf5,Rxf5+,Nxf5,Qxf5+,Qf6,Qc5+,Kg8,Qxa7,Qe5+,Kg2,Qe4+,Kh2,Qf4+,Kg2,Re5,Qb8+,Kh7,Qxb7,Rg5+,Kh1,Rh5,Qb1+,g6,Qb3,Qf5,Qg3', 'Rxh3+,Qxh3+,Qxh3+', 'https://lichess.org/training/SVO95');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('svpTL', 'Rapid', 'Vanek_oO', 1631, 'VrumVrum', 1788, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,d6,Be3,Nf6,Nc3,Be7,Nxc6,bxc6,O-O,O-O,Qe2,Be6,Bd3,c5,Bb5,Bd7,a4,c6,Bc4,d5,exd5,cxd5,Nxd5,Nxd5,Bxd5,Rb8,b3,Bf6,Rad1,Re8,Bc6,Bd4,c3,Bxc6,cxd4,cxd4,Rxd4', 'Qxd4,Bxd4,Rxe2', 'https://lichess.org/training/svpTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVQqg', 'Rapid', 'abdnr', 1945, 'Ejichek', 1920, 'e4,c5,Nf3,d6,c3,Nc6,Bc4,e6,O-O,Nf6,Re1,Be7,d4,cxd4,cxd4,d5,exd5,Nxd5,Nc3,O-O,Nxd5,exd5,Bb5,Bd7,Qe2,Re8,Qc2,Rc8,Qd3,Nb4,Qb3,Bxb5,a3,Nd3,Rxe7,Qxe7,Qxb5,Qe1+,Nxe1', 'Rxe1#', 'https://lichess.org/training/SVQqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('svqxs', 'Rapid', 'FranzJosephOfAustria', 1640, 'jgpawner', 1602, 'e4,Nc6,Nf3,e6,d4,Be7,d5,exd5,exd5,Na5,Bd2,c6,b4,cxd5,bxa5,b6,axb6,Qxb6,Nc3,Bb7,Bb5,Nf6,O-O,Bb4,Rb1,Qd6,Re1+,Kf8,Ne5,Re8,f4,Ba5,Ne4,Nxe4,Bxa5,Qc5+,Kh1,Nf2+,Kg1,Nxd1+,Kh1,Qf2', 'Nxd7+,Kg8,Rxe8#', 'https://lichess.org/training/svqxs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SvqyO', 'Classical', 'AIOFFE', 1701, 'fhjoihf', 1657, 'e4,e5,Bc4,Nf6,d3,c6,Nf3,d5,exd5,cxd5,Bb3,Bg4,h3,Bxf3,Qxf3,Be7,a3,O-O,Be3,e4,dxe4,dxe4,Qg3,Nh5,Qg4,Nf6,Qg3,Nbd7,Bh6,Nh5,Qg4,Ndf6,Qg5,Kh8,O-O,gxh6,Qxh6,Qa5,Nc3,Ng8,Qe3,Rae8,Qxe4,Qb6,Nd5,Qc5,Rad1,Ng3', 'Qe5+,Bf6,Qxg3', 'https://lichess.org/training/SvqyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVsEL', 'Rapid', 'elwood_', 1946, 'Egypt-Pharaoh', 2126, 'd4,Nf6,Bg5,d5,Nf3,e6,e3,b6,c4,Bb7,Nc3,Nbd7,Ne5,Be7,cxd5,exd5,Nxd7,Qxd7,Bb5,c6,Bd3,h6,Bh4,O-O,O-O,Rfe8,Bg3,Bd6,Bxd6,Qxd6,a3,Ne4,Nxe4,dxe4,Bc4,Rad8,Qg4,c5,Rfd1,cxd4,Rxd4,Qe7,Rad1,Rxd4,Rxd4,Rd8,Qd1,Rxd4,exd4,e3,fxe3,Qxe3+,Kh1,Qf2,Qe2', 'Bxg2#', 'https://lichess.org/training/SVsEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVt8u', 'Rapid', 'ferdinando51', 1623, 'Edward_Elric', 1644, 'h3,e5,Nc3,Nc6,d3,d6,a3,Nf6,e3,Be7,Be2,d5,Bf3,Be6,Nge2,O-O,Ng3,h6,Nh5,Nxh5,Bxh5,f5,Qf3,e4,Qe2,exd3,Qxd3,Ne5,Qe2,c5,f4,Nc6,Bd2,Bh4+,Kf1,d4,Be1,a6,Bxh4,Qxh4,Na4,b5,Nxc5,Bc4,Nd3,dxe3,Qf3,Bxd3+,cxd3,Qf6,Qd5+,Kh7,Rb1,g6,Bf3,Rac8,Ke2,Nd4+,Kxe3,Nxf3,Kxf3,Rcd8,Qb3,Qc6+,Kg3,g5,Rbf1,gxf4+,Rxf4,Qg6+,Kh2,Rg8,Rg1', 'Qg3+,Kh1,Qxf4', 'https://lichess.org/training/SVt8u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVtvh', 'Blitz', 'Igor-Du', 1793, 'alsltani', 1766, 'e4,c5,f4,Nc6,Nc3,d6,Bc4,Nf6,Nf3,g6,e5,dxe5,O-O,Bg7,fxe5,Ng4,Bxf7+,Kxf7,Ng5+,Ke8,e6,Qd4+,Kh1,Rf8,Rxf8+,Kxf8,Qf1+,Kg8', 'Qf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/SVtvh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SvtVq', 'Rapid', 'cutemiming', 1876, 'kgb888', 1845, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,Nf6,Bd3,Ne4,Nd2,Nxg3,hxg3,Nd7,e4,dxe4,Nxe4,h6,Nf3,Be7,Qd2,c5,c3,cxd4,Nxd4,Nf6,f3,Nxe4,Bxe4,Rb8,O-O-O,O-O,Kb1,Bf6,Qf4', 'e5,Qc1,exd4', 'https://lichess.org/training/SvtVq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sVU7p', 'Rapid', 'tttiger', 1610, 'Lugolas', 1605, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,d3,h6,a3,Nf6,b4,Bb6,Nc3,Qe7,Nd5,Nxd5,Bxd5,Be6,Bxc6+,bxc6,c4,a6,Be3,O-O,c5,Ba7,Nd2,f5,f4,fxe4,Nxe4,exf4,Rxf4,Bd5,Qg4,Rxf4,Bxf4,dxc5,Nxc5,Bxc5+,bxc5,Rf8,Bxh6,Rf7,d4,Be6,Qg3,Qf6,Bg5', 'Qxd4+,Qe3,Qxa1+', 'https://lichess.org/training/sVU7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('svUBi', 'Rapid', 'kmanoj', 1852, 'John_Mulder', 1821, 'e4,e5,b3,d6,Bb2,Nc6,d4,exd4,Bxd4,Nxd4,Qxd4,Qf6,Nf3,Qxd4,Nxd4,Nf6,Nb5,Kd7,Nd2,c6,Nd4,Kc7,Bc4,d5,exd5,cxd5,Bd3,a6,O-O,Bc5,N2f3,Bg4,c4,Bxf3,Nxf3,Ne4,cxd5,Nxf2,Rxf2,Bxf2+,Kxf2,Kd6,Be4,f6,Nd2,b5,Rc1,Rac8,Rc6+,Rxc6,dxc6,Rc8,a4,Kc5,Ke3,g6,g4,bxa4,bxa4,Kb4,h4,Kxa4,Nc4,Kb3,Na5+,Kb4,Nb7,a5,Nd6,Rc7,Kd2,a4,Kc2,a3,Ne8,Re7,c7', 'Rxe8', 'https://lichess.org/training/svUBi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SvvWe', 'Rapid', 'nykomo', 1934, 'klassik_1', 1777, 'e4,Nc6,d4,d5,Nc3,dxe4,d5,Ne5,Qd4,f6,Nxe4,Bf5,Ng3,Bxc2,Bf4,c6,Qc3,Ba4,Bxe5,fxe5,b3,Bb5,Bxb5,cxb5,Rd1,Nf6,Nf3,Rc8,Qd2,e4,Ng5,Rc5,d6,exd6,Ne6,Qe7,Nxc5,dxc5,O-O,Qe5,Qd8+,Kf7,f3,exf3,Rxf3,c4,bxc4', 'Bc5+,Kh1,Rxd8', 'https://lichess.org/training/SvvWe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SVVzE', 'Blitz', 'pigreco86', 1600, 'Jeoda', 1595, 'e4,e5,Nf3,d6,Bc4,Be7,d3,Bf6,Nc3,Ne7,h3,O-O,Bd2,c6,Qe2,d5,exd5,cxd5,Bb3,d4,Ne4,Nec6,O-O-O,a5,g4,Be6,Bxe6,fxe6,g5,Be7,h4,b5,h5,Nd7,h6,g6,Rdg1,b4,Nf6+,Kh8,Nxd7,Qxd7,Nxe5,Qd5,Nc4,a4,Be1,b3,a3,Qc5,Qe4,Bxg5+,Bd2,Bxd2+,Kxd2,Rxf2+,Ke1,Rxc2,Qxe6,Rc1+,Kf2,Rxg1', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/SVVzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('svyeu', 'Rapid', 'alfio', 1935, 'AlixM', 2014, 'e4,d6,c3,c5,Nf3,Nf6,Be2,Nxe4,Qa4+,Nc6,Qxe4,g6,d4,Bf5,Qd5,e6,Qb3,cxd4,Nxd4,Nxd4,cxd4,Qc7,Bb5+,Ke7,O-O,Bg7,Be3,a6,Rc1,Qa5,Bf1,b5,Nc3,Rac8,Bg5+,Kd7,Be3,Rc7,Bd2,Bxd4,Nxb5,Qxd2,Rxc7+,Kd8,Rac1', 'Qxf2+,Kh1,Qg1#', 'https://lichess.org/training/svyeu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('svZ9w', 'Rapid', 'panicblue', 2123, 'Perry_Ode', 2094, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,Bb5,Bd6,h3,Ne7,Nc3,O-O,Bg5,f6,Bh4,Bf5,Qd2,a6,Ba4,b5,Bb3,Bb4,Bg3,Re8,O-O,Be4,Qe2,Bxf3,Qxf3,Bxc3,Qxc3,a5,a4,b4,Qd3,Qd7,Rfe1,Rab8,f3,g6,Re2,Nf5,Rxe8+,Rxe8,Bf2,Nce7,Re1,Kg7,g4,Nd6,Bg3,f5,Be5+,Kg8,Bf6,Kf7,Bxe7,Rxe7,Bxd5+,Kg7,Rxe7+,Qxe7,Kf2,fxg4,hxg4,h5,Qe3,Qh4+,Kg2,hxg4,Qe5+,Kh7,fxg4,Qxg4+,Kf2,Qf5+,Ke3,Qxc2,Qe7+,Kh6,Qf8+,Kg5', 'Qf4+,Kh5,Bf3#', 'https://lichess.org/training/svZ9w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('svzWO', 'Classical', 'TapaniS', 2139, 'ChessNurse2023', 2071, 'd4,Nf6,Nf3,d5,g3,g6,Bg2,Bg7,O-O,O-O,c4,e6,Nc3,c6,cxd5,exd5,Re1,Re8,Ne5,Nbd7,Nd3,b6,b4,a6,a4,Bb7,Bb2,h5,h4,Kh7,e4,dxe4,Nxe4,Nxe4,Rxe4,Rxe4,Bxe4,f5,Bxf5,gxf5,Qxh5+,Kg8,Re1,Qf6,Re8+,Nf8,Ne5,Rxe8,Qxe8,c5,bxc5,bxc5,dxc5,Qe6,Qxe6+,Nxe6,c6,Bxc6,Nxc6,Bxb2,Ne7+,Kf7,Nxf5,Kf6,g4,Nf4,f3,a5,Kf2,Bc1,Nd6,Bd2,g5+,Ke5', 'Nc4+,Kf5,Nxd2', 'https://lichess.org/training/svzWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SW0lv', 'Rapid', 'Yaisa', 1749, 'shiroo_00', 1798, 'e3,c5,h3,e6,b3,d5,Bb2,Nf6,Nf3,Bd6,Nc3,Nc6,d3,O-O,Ng5,h6,Nf3,a6,g4,b5,g5,Nd7,gxh6,gxh6,Rg1+,Kh7,Nxb5,axb5,Rg7+,Kh8,Rxf7+,Kg8', 'Rg7+,Kh8,Rxd7+', 'https://lichess.org/training/SW0lv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sw0v6', 'Blitz', 'superpanda', 1631, 'marthursson', 1595, 'b3,e5,Bb2,Nc6,e4,Nf6,Nc3,g6,Bb5,d6,Bxc6+,bxc6,d3,Bg7,h3,O-O,Nge2,Re8,Qd2,d5,O-O-O,d4,Na4,Qe7,f4,Bd7,fxe5,Qxe5,Nxd4,c5,Nf3,Qe7,Kb1,Bxa4,bxa4,Rab8,Ka1,Rb7,g4,Reb8,Rb1,Ne8,Bxg7,Nxg7,Rxb7,Rxb7,Qg5,Qd7,Ne5', 'Qd4+,c3,Qxc3#', 'https://lichess.org/training/Sw0v6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sw1Cb', 'Classical', 'PheGrate', 1686, 'ChangizThm', 1667, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,d4,Bxc6+,bxc6,exd4,exd4,Ne2,c5,d3,Nf6,Nd2,Bd6,h3,O-O,O-O,Re8,c3,Ba6,c4,Bb7,Qc2,a5,Rae1,Nh5,g4,Qg5,Ne4,Qe5,f4,Qe6,gxh5,Qxh3,N2g3,Bxe4,dxe4,Qxg3+,Qg2,Qh4,e5,h6,exd6,Rxe1,Rxe1,Qxe1+,Kh2,cxd6,Qxa8+,Kh7,Qg2,Qh4+,Kg1,Qxf4,Kh1,Qh4+,Qh2,Qe4+,Qg2,Qb1+,Kh2,Qxa2,Bxd4', 'Qxg2+,Kxg2,cxd4', 'https://lichess.org/training/Sw1Cb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sw2m5', 'Blitz', 'arthi15', 2006, 'Lucifero', 1775, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h5,Bd3,Bxd3,Qxd3,hxg4,e6,fxe6,Qg6+,Kd7,Qxg4,Nf6,Qg6,Kc8,Nf3,Nbd7,Bf4,Qb6,Nbd2,Qxb2,Rb1,Qxa2,Be5,Nxe5,Nxe5,Rh6,Qf7,Kc7,Ng6,Nh7,O-O,Qxc2,Nxe7,Kd6,Nf3,Rf6,Nc8+,Rxc8,Qxb7,Rxf3,Qxc8,Be7', 'Qb8+,Kd7,Rb7#', 'https://lichess.org/training/Sw2m5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sw4cy', 'Blitz', 'vidanut', 2056, 'Fyzy', 2010, 'f4,d5,Nf3,Nc6,g3,Nf6,Bg2,e6,O-O,Bd6,d3,O-O,c3,a6,Qc2,Ne7,Nbd2,Ng6,e4,dxe4,dxe4,c6,Nb3,Bc7,e5,Nd5,c4,Nb4,Qe4,f5,exf6,Rxf6,Be3,Qd3,Ng5,h6,Qxd3,Nxd3,Ne4,Rf8,Bd4,e5,fxe5,Rxf1+,Rxf1,Ngxe5,Nbd2,Bd7,b3,Re8,Nc5,Bc8,Nxd3,Nxd3,Ne4,Ne5,Re1,Nd3,Re3,Ne5,h3,Kf7,Kh2,g5,Bf3,Kg6', 'Bh5+,Kxh5,Nf6+,Kg6,Nxe8', 'https://lichess.org/training/sw4cy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sw4Jy', 'Classical', 'patience528', 1732, 'Lucas_cbg', 1689, 'e4,c5,Nf3,Nc6,Bb5,e5,Nc3,Nf6,Bxc6,dxc6,O-O,Bg4,d3,Bd6,h3,Bh5,Bg5,O-O,g4,Bg6,Ne2,h6,Bh4,Be7,Bxf6,Bxf6,Ng3,a5,Nf5,b5,c4,bxc4,dxc4,Bxf5,Qxd8,Raxd8,exf5,Rb8,Rab1,e4,Nd2,Rfe8,Rfe1,Bxb2,Nxe4,Bd4,Rb3,a4,Rbb1', 'Rxb1,Rxb1,Rxe4,Rb8+,Kh7', 'https://lichess.org/training/sw4Jy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sw4YM', 'Rapid', 'Zugzwang1993', 1984, 'Kaskade24', 2000, 'd4,Nf6,c4,c5,d5,e5,Nc3,d6,e4,Be7,Nge2,Nbd7,Ng3,Nf8,Bd3,Ng6,O-O,O-O,Nce2,h6,b3,Nh7,Bb2,Bg5,Nh5,Bg4,Nhg3,Nf4,f3,Bd7,Nxf4,Bxf4,Qe2,Qg5,Bc1,h5,Bxf4,exf4,Nh1,Qh4,g3,Qg5,Qd2,fxg3,Qxg5,gxh2+,Kxh2,Nxg5,f4,Nh7,Ng3,g6,Rg1,Bg4,e5,Rad8,Raf1,Rfe8,e6,fxe6,Bxg6,Re7,Nxh5,Bxh5,Bxh5+,Kf8,dxe6,Rxe6,Re1', 'Rh6,Kg2,Rxh5', 'https://lichess.org/training/sw4YM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sW6cG', 'Rapid', 'ahim6591', 1637, 'Maris-S', 1638, 'e4,e5,c3,d6,d4,exd4,cxd4,Qh4,Bd3,Nf6,Nf3,Qg4,O-O,Nxe4,h3,Qe6,Nc3,d5,Re1,Be7,Bxe4,dxe4,Rxe4,Qg6,Bg5,f6,Bf4,Bxh3,Rxe7+,Kxe7,Nd5+,Kf7,Nh4,Qe4,Qb3,Be6,Qxb7,Bxd5,Qxc7+,Qe7,Qc3,Re8,Nf5,Qd7,Nd6+,Kg8,Nxe8,Qxe8,Re1,Qf7', 'Qc8+,Qf8,Re8', 'https://lichess.org/training/sW6cG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SW8s9', 'Rapid', 'cheesawatara', 2112, 'Iman_2906', 2097, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d6,h3,h6,c3,Be6,Bxe6,fxe6,Re1,O-O,d4,Bb6,d5,exd5,exd5,Ne7,c4,Ng6,Qc2,e4,Nfd2,Qe7,Nxe4,Nxe4,Rxe4,Bxf2+,Kh1,Qd7,Rg4,Ne5,Rf4,Bg3,Rxf8+,Rxf8,Qe2,Rf2,Qd1,Nf3,Be3', 'Qxh3+,gxh3,Rh2#', 'https://lichess.org/training/SW8s9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sw8xo', 'Rapid', 'kala11', 1681, 'PRVPRivero', 1718, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,a3,Bc5,b4,Bb6,b5,Na5,Nxe5,Nxc4,Nxc4,d5,Nxb6,axb6,e5,Qe7,d4,Ne4,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1+', 'https://lichess.org/training/sw8xo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sw94V', 'Rapid', 'Mauric', 1977, 'elgambitodebertin', 1994, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qf3,Be7,Rd1,h6,Bh4,Qa5,Nb3,Qh5,Qxh5,Nxh5,Bxe7,Kxe7,Be2,Nf4,Bf3,Nc6,a3,Ne5,Nd2,Nxf3+,Nxf3,Nxg2+,Kf1,Nf4,Rg1,g6,e5,d5,Rd4,g5,h4,Ng6,hxg5,hxg5,Rxg5,Rh1+,Ke2,Rc1,Kd2,Rf1,Ke2,Rc1,Ne1,Bd7,Kd2,Ra1,Rb4,Bc6,Rh5,Rh8,Rxh8,Nxh8,a4,a5,Rd4,Ng6,f4,Nh4,b3', 'Rxe1,Kxe1,Nf3+,Ke2,Nxd4+', 'https://lichess.org/training/Sw94V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SwAkr', 'Rapid', 'CarlosPrimo', 1748, 'tugerglokdik', 1764, 'e4,Nf6,Nc3,Nc6,Bc4,e6,Nf3,d5,exd5,exd5,Bb5,Bg4,Bxc6+,bxc6,O-O,Bb4,Na4,O-O,h3,Bh5,c3,Bd6,b4,Kh8,Re1,g5,g4,Nxg4,hxg4,Bxg4,Re3,Bf4,Rd3,Qd6,Bb2,Bh2+,Kh1,Qf4,c4+,f6,cxd5,cxd5,Nc3,d4,Nd5,Qe4,Qb3,c5,Re1', 'Bxf3+,Rxf3,Qxe1+', 'https://lichess.org/training/SwAkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sWBlG', 'Rapid', 'morteza4169', 1719, 'machevara', 1666, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,c3,d6,cxd4,Bg4,Be2,Nf6,h3,Bh5,d5,Bxf3,Bxf3,Ne5,Be2,Nxe4', 'Qa4+,Qd7,Qxe4', 'https://lichess.org/training/sWBlG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Swc1o', 'Rapid', 'tiwariabhishek', 2126, 'TrainOfChaos', 2085, 'Nc3,d5,d4,Nf6,f3,g6,Bf4,Bg7,Qd2,O-O,O-O-O,a6,Bh6,Nbd7,Bxg7,Kxg7,h4,h5,e4,dxe4,fxe4,b5,e5,Ng4,Nh3,Nb6,Qe2,Nc4,Qe4,Bf5,Qf4,Nge3,Re1,Nxc2,Re2,Nxd4,Re1,c5,Bxc4,bxc4,Rd1,Qa5,Nf2,Rab8,g4,Qb4,Rd2,Qxc3+,bxc3', 'Rb1#', 'https://lichess.org/training/Swc1o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('swc47', 'Rapid', 'Gennadiy-53', 1849, 'OrionNebula1976', 1685, 'e4,e5,Nf3,Nc6,c3,d5,Qe2,dxe4,Qxe4,Bd6,Bb5,Nf6,Bxc6+,bxc6,Qxc6+,Bd7,Qc4,O-O,h3,a6,O-O,Bb5,Qb3,Bxf1,Kxf1,Qd7,d3,h6,Qc2,Rfe8,Nbd2,Qb5,Ne4,Nxe4,c4,Ng3+,fxg3,Qc5,Bd2,g5,Re1,e4,dxe4,Bxg3,Re2,Re7,a3,a5,b4,Qa7,bxa5,Rae8,Be3,Qxa5,Bd2,Qxa3,Qc3,Qa7,Be3,c5,Qf6,Rxe4,Qxh6,Bf4,Bxf4,Rxe2,Qxg5+,Kf8,Bd6+,R8e7,Bxe7+,Rxe7,Qh6+,Ke8,Qh8+,Kd7,Qc3,Qa2,Qd3+,Ke8,Qd5,Re2,Qc6+,Kf8,Qc8+,Kg7,Qg4+,Kf6,Qg5+,Ke6,Qh6+,f6,Ng5+,Ke5,Nf3+,Ke4,Qxf6', 'Rf2+,Kg1,Rxg2+', 'https://lichess.org/training/swc47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sWDIR', 'Rapid', 'UlyanaYa', 1762, 'ValentinaYa', 1732, 'e4,Nc6,Nf3,d6,d4,Bg4,Be2,e5,d5,Nce7,Ng5,Bxe2,Qxe2,h6,Nf3,Ng6,Nc3,Nf6,Bd2,Be7,O-O-O,Qd7,Nb5,O-O,Nc3,a5,h4,Nh5,Ne1,Nhf4,Bxf4,Nxf4,Qf3,c6,g3,Nh3,Nd3,cxd5,g4,Nf4,Nxf4,exf4,Qxf4,dxe4,Nxe4,f5,Nxd6,fxg4,Qc4+,Kh7,Nf7,Qf5,Nd6,Qxf2', 'Qe4+,Kh8,Qxe7', 'https://lichess.org/training/sWDIR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SwGyV', 'Rapid', 'cactus273', 1864, 'miwa', 1609, 'd4,e6,e4,Be7,Nf3,d6,c4,Bd7,Nc3,h6,Be2,a6,O-O,Bg5,Nxg5,hxg5,Bg4,Nh6,Bh5,g6,Be2,g4,Be3,Qh4,Qd2,f6,Bf4,e5,Bg3,Qh5,dxe5,fxe5,Nd5,Kd8,Nf6,Nf7,Nxh5,Rxh5,f4,Nc6,f5,gxf5,exf5,Nh6,Bxg4,Nxg4,Rad1,Nd4,f6,c5,f7,Kc7,f8=Q,Rxf8,Rxf8,Kb6,b4,Bc6,bxc5+,dxc5,Rb1+,Ka7,Qa5,Ne2+,Kf1,Nxg3+,hxg3,Rh1+,Ke2,Rxb1,Qc3,Bxg2,Rg8,Nf6,Rg6,Bf1+,Kf3,e4+,Kf2,Nd7,Rd6,Nb6,Qc2,Bd3,Rxd3,exd3,Qxb1,Nxc4,Qc1,d2,Qc2,b5,Ke2,Kb6,g4,Kc6,g5,Kd6,a4,Ke5,axb5,axb5,Qd3,Ke6,Qf3,Ke5,Qf6+,Ke4,Qe6+,Kd4,g6,Kc3,Qxc4+', 'bxc4,g7,Kc2,g8=Q,d1=Q+', 'https://lichess.org/training/SwGyV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Swhzd', 'Rapid', 'ivankovac', 1745, 'srj10', 1714, 'e4,c5,Bc4,d6,Nf3,Nf6,d3,a6,Ng5,e6,a3,Nc6,c3,b5,Ba2,Be7,O-O,h6,Nh3,O-O,Bf4,e5,Bg3,Bxh3,gxh3,Qd7,Kg2,d5,exd5,Nxd5,Qf3,Nf6,Re1,Bd6,Nd2,Rac8,Ne4,Nxe4,Rxe4,Ne7,Bxe5,Ng6,Bxd6,Qxd6,Rae1,Rce8,Rxe8', 'Nh4+,Kf1,Nxf3', 'https://lichess.org/training/Swhzd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('swIM1', 'Rapid', 'Meruem001', 1821, 'StereoTip', 1759, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,d3,Nf6,a3,Bg4,h3,Bh5,c3,O-O,Be3,Bb6,Bxb6,axb6,Nbd2,h6,Qc2,Kh8,Rfe1,Nh7,Re3,Ng5,Nxg5,Qxg5,Rg3,Qe7,Nf3,f5,exf5,Rxf5,d4,Bxf3,Qxf5,Rf8,Qg6,Rf6,Qd3,Bh5,Re1,Qf8,Qc2,exd4,Be2,Be8,Rf3,dxc3,Qxc3,Rxf3,Bxf3,Ne5,Re3,Qf7,Bg4,Bc6,Rxe5,dxe5,Qxe5,Kh7,Bf5+,g6,Be4,Bxe4,Qxe4,c6,Qb4,b5,Qd6,Kg7,Qe5+,Kh7,b4,h5,Qc5,Qd7,Qa7,Kg7,a4,bxa4,Qxa4,b5,Qa1+,Kf7,Qa2+,Qe6,Qa7+,Kf6,Qc5', 'Qe1+,Kh2,Qe5+,Qxe5+,Kxe5', 'https://lichess.org/training/swIM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SwIog', 'Classical', 'roslag-97-2-vin-100', 1917, 'Yogeshdahiya', 1856, 'd4,d5,Bf4,Nf6,e3,c5,c3,e6,Nf3,Bd6,Bg3,Nc6,Bd3,h6,Ne5,cxd4,exd4,Qc7,f4,a6,O-O,b5,a3,Na5,Nd2,Nc4,Ndxc4,bxc4,Bc2,Rb8,b4,cxb3,Bxb3,Bxe5,fxe5,Ne4,Ba4+,Bd7,Bxd7+,Qxd7,Be1,O-O,Rb1,Rfc8,Rxb8,Rxb8,Qc2,Qc6,Rf3,a5,h3,a4,Kh2,Rb3,c4,dxc4,Bb4,Qd5,Qd1,Qc6,Qe1,c3,Qh4,c2,Qd8+,Kh7,Rxf7,c1=Q,Rxg7+,Kxg7,Qf8+,Kg6', 'Qg8+,Kf5,Qg4#', 'https://lichess.org/training/SwIog');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SwiZE', 'Classical', 'ev00', 1672, 'ttamslamm', 1752, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,f6,O-O,Bg4,h3,Bxf3,Qxf3,Bc5,Be3,b6,Bxc5,bxc5,Nd2,Qd4,c3,Qa4,Qe3,Qa5,Nb3,Qb5,Qxc5,Qxc5,Nxc5,Ne7,Ne6,Kf7,Nxc7', 'Ra7,Nxa6,Rxa6', 'https://lichess.org/training/SwiZE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SWJ8I', 'Rapid', 'Ruvinstein', 1937, 'rosoha', 1892, 'd4,b6,e4,Bb7,Nc3,e6,f4,Qh4+,g3,Qd8,Bg2,d6,Nf3,Nf6,O-O,Nxe4,Nxe4,Bxe4,Qe2,Bb7,c4,Be7,Re1,O-O,b3,Nd7,Bb2,Rb8,Rad1,Bf6,g4,g6,g5,Bg7,h4,Bxf3,Bxf3,h6,Be4,hxg5,fxg5,e5,dxe5,Bxe5,Qc2,Kg7,Bc1,Bg3,Qc3+,Be5,Qf3,Rh8,Qh3,Nc5,Bc6,Ne6', 'Rxe5,dxe5,Rxd8', 'https://lichess.org/training/SWJ8I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sWKiV', 'Classical', 'BW101', 1898, 'teodor6100', 1901, 'e3,c5,b3,d5,Bb5+,Bd7,Bxd7+,Nxd7,d3,e5,Nd2,Ngf6,e4,d4,Qf3,b5,Ne2,Be7,h3,Qc7,a3,a5,g4,h6,Ng3,Nb6,Kf1,c4,bxc4,bxc4,Kg2,cxd3,Qxd3,O-O,Nf3,Nbd7,g5,hxg5,Bxg5,Nc5,Qe2,Rfe8,Bxf6,Bxf6,h4,Rac8,h5,Na4,Qb5,Nc3,Qd3,Re6,Nf5,Qc6,Rhe1,Rb8,Nh2,Bg5,f3,Rb2,Ng4,Na4,Re2,Bf4,Kh3,Qc3,Qxc3,Nxc3,Rg2,Reb6,Rag1,Ra2,Nxg7,Kxg7', 'Nxe5+,Kf6,Nd7+,Ke7,Nxb6', 'https://lichess.org/training/sWKiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('swkV8', 'Blitz', 'NM UntilItIsOtherwise', 2532, 'warior1', 2555, 'e4,c5,Nf3,d6,Bb5+,Nd7,a4,Nf6,Nc3,g6,O-O,Bg7,a5,a6,Bc4,O-O,Re1,b5,axb6,Nxb6,Ba2,Nfd7,d3,a5,Bb3,e6,Bg5,Qc7,Qc1,Re8,h4,Ba6,h5,c4,dxc4,Nxc4,Bh6,Bh8,Na4,Ndb6,Nxb6,Qxb6,Bxc4,Bxc4,c3,Reb8,Qf4,e5,Qh4,Qxb2,hxg6,fxg6,Qe7,Rb7,Qxd6,Qxc3,Rac1,Qb4,Qc6,Bf7', 'Qc8+,Rxc8,Rxc8+,Be8,Rxe8+,Kf7,Rxh8', 'https://lichess.org/training/swkV8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SWlHw', 'Rapid', 'Ahmedpasto', 1712, 'mali_0231', 1718, 'e4,e5,Nf3,Nc6,Bb5,Bc5,b4,Bxb4,c3,Bc5,O-O,Nge7,a3,a6,Ba4,b5,Bb3,O-O,d4,exd4,cxd4,Bb6,Be3,d5,e5,Bg4,Nbd2,Nxd4,Qb1,Nxf3+,Nxf3,Bxe3,fxe3,Bxf3,Rxf3,Re8,Rh3,Ng6,Qf5,Rxe5,Qf3,d4,Bxf7+,Kh8,Bxg6,h6,exd4', 'Qxd4+,Qf2,Qxa1+', 'https://lichess.org/training/SWlHw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('swN53', 'Blitz', 'NM Fumitoks', 2447, 'RavanUghuzov_2007', 2287, 'e4,c6,d3,d5,Nd2,dxe4,dxe4,Nf6,b3,g6,Bb2,Bg7,Ngf3,O-O,Bd3,Nh5,Bxg7,Nxg7,O-O,Bg4,h3,Bxf3,Qxf3,Nd7,Rad1,Qc7,Qe2,Ne5,Nc4,Nxd3,Rxd3,Rad8,Rfd1,b5,Ne3,Ne6,Rxd8,Rxd8,Rxd8+,Qxd8,Qd1,Qxd1+,Nxd1,Nd4,Ne3,f6,Kf1,e5,Ke1,Kf7,Kd2,Ke6', 'c3,Nxb3+,axb3', 'https://lichess.org/training/swN53');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SwnwS', 'Classical', 'Aboelfutooh', 1757, 'Aaradhya', 1741, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,h3,d6,a3,O-O,Ng5,Be6,Bxe6,h6,Nxf7,Rxf7,Bxf7+,Kxf7,d3,Kg8,g4,Qe7,Bd2,Rd8,Qe2,Nd4,Qd1,Nd7,Ne2,Qf6,Nxd4,Bxd4,f3', 'Qh4+,Kf1,Qf2#', 'https://lichess.org/training/SwnwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SwO4z', 'Classical', 'yurijizvekov', 1703, 'Okladnoy', 1776, 'e4,e6,Bc4,d5,exd5,exd5,Bb5+,c6,Ba4,Bc5,Nf3,Nf6,d4,Bb6,c3,h6,Bf4,Qe7+,Be3,O-O,O-O,Bg4,Nbd2,Ne4,h3,Bh5,g4,Bg6,Ne5,Qh4,Kg2,Nxd2,Bxd2,Be4+,f3,Bh7,Bf4,Qd8,Rh1,f5,Qd2,fxg4,hxg4,Qf6,Be3,Bc7,Raf1,Bxe5,dxe5,Qxe5,Bxh6,gxh6,Qxh6,Qg7,Qe6+,Qf7,Qh6,Nd7,g5,Qg6,Qh4,Rf5,f4,Nf6,Bc2,Ne4,Bd1,Nd2,Re1,Qg7,Bc2,Raf8,Bxf5,Bxf5,Re5,Be4+,Rxe4,dxe4,Qe1,Rxf4,Qg3,Rf5,Qb8+,Kf7,Qc7+,Kg6', 'Rh6+,Qxh6,gxh6', 'https://lichess.org/training/SwO4z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('swoqF', 'Rapid', 'mohdfarit', 1853, 'Aiden_Morgan', 1923, 'd4,Nf6,c4,g6,Nc3,Bg7,e3,O-O,Bd3,c6,Nf3,d5,O-O,dxc4,Bxc4,Bg4,h3,Bxf3,Qxf3,Nbd7,e4,Nb6,Qd3,Nxc4,Qxc4,Nd7,d5,Nb6,Qd3,Bxc3,bxc3,cxd5,exd5,Qxd5,Qe3,Rae8,a4,Nc4,Qxa7,b5,axb5', 'Ra8,Qxe7,Rxa1', 'https://lichess.org/training/swoqF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sWPfX', 'Rapid', 'hedayat', 1988, 'floydian94', 2191, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Bd3,dxc4,Bxc4,Bd6,Qe2+,Qe7,Nc3,O-O,Qxe7,Bxe7,Bg5,Bf5,Nge2,h6,Bh4,Nbd7,O-O,Nb6,Bb3,Rad8,Rad1,c6,h3,Rfe8,g4,Bh7,Bg3,Nbd5,Nxd5,Nxd5,Nc3,Nb6,d5,cxd5,Nxd5,Nxd5,Rxd5,b6,Rfd1,Rxd5,Rxd5,Bc5,Rd7,Re1+,Kh2,Be4,Rd1,Re2,Rd8+,Kh7,Bxf7,Rxb2,Bg8+,Kg6,Re8,Bf3,Bh4', 'Bd6+,Bg3,Rxf2+', 'https://lichess.org/training/sWPfX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SWpS9', 'Blitz', 'good_vibes_cartel', 1509, 'Sergey_Miass', 1525, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nc3,Nxd4,Qxd4,Bxb5,Nxb5,a6,Nc3,Nf6,O-O,Be7,e5,dxe5,Qxe5,O-O,Rd1,Bd6,Qg5,h6,Qh4,Re8,Bf4,g5,Bxg5,hxg5,Qxg5+,Kh7,Rd3,Re5', 'Rh3+,Nh5,Rxh5#', 'https://lichess.org/training/SWpS9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sWpTv', 'Rapid', 'reichenbacher', 1845, 'aseerr', 1776, 'd4,e6,c4,Bb4+,Nc3,d5,Qb3,Ba5,Bd2,Bxc3,Bxc3,c5,dxc5,d4,Rd1,e5,e3,Nc6,exd4,exd4,Nf3', 'Qe7+,Be2,dxc3', 'https://lichess.org/training/sWpTv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('swqET', 'Rapid', 'DivyanshMaru', 1629, 'Dinuzzz', 1651, 'e4,e5,Nf3,d5,Nc3,d4,Nb5,Bd7,Bc4,a6,Na3,b5,Bb3,f6,d3,a5,Bd5,c6,Bb3,Bxa3,bxa3,Ne7,O-O,a4,Bf7+,Kxf7,Nh4,Ng6,Bd2,Nxh4,Qh5+,Ng6,f4,Ke7,f5,Nf4', 'Bb4+,c5,Bxc5#', 'https://lichess.org/training/swqET');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('swRD5', 'Rapid', 'fatixx', 1644, 'mush_gm', 1680, 'e4,e5,Nf3,d6,d4,exd4,Qd3,Nf6,Qxd4,Nc6,Qe3,Be7,Bb5,Bd7,Nc3,O-O,h4,Ng4,Qf4,Re8,Ng5,f6', 'Bc4+,Kh8,Nf7+', 'https://lichess.org/training/swRD5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('swS9o', 'Rapid', 'kulje', 2030, 'bogdankukic', 1920, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,e6,a3,Nf6,Bc4,b5,Nxb5,Qb6,Nc3,Qxb2,Nge2,Qb6,O-O,Be7,Na4,Qc7,h3,Ba6,Bf4,Bd6,Bxd6,Qxd6,Bxa6,Nxa6,c3,O-O,Nb2,Rad8,Nc4,Qd5,Ne3,Qa5,Qc2,Nc7,Ng4,Ncd5,Ne5,Qc7,Nd3,Rfe8,Rfe1,Ne7,Nec1,Ng6,Nb3,e5,dxe5,Nxe5,Nxe5,Rxe5,Nd4,h6', 'Rxe5,Qxe5,Nxc6', 'https://lichess.org/training/swS9o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SWt7r', 'Rapid', 'fikriasmal', 1760, 'Abhishekk386', 1894, 'e4,e6,Nc3,d5,exd5,exd5,d4,Be6,Nf3,c5,dxc5,Bxc5,Be3,Bxe3,fxe3,Nf6,Bd3,Nc6,O-O,a6,Qe2,b5,e4,d4,Nd1,Bg4,Nf2,Bh5,h3,O-O,Ng4,Bxg4,hxg4,Nxg4,a4,Qc7,e5,Ne3,Rf2,b4,Be4,Nxe5,Nxe5,Qxe5,Bxa8,Rxa8,Qf3,Rf8,Re1,f5,c3,f4,cxd4,Qxd4,Qc6,Ng4', 'Qe6+,Kh8,Qxg4', 'https://lichess.org/training/SWt7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('swtEn', 'Rapid', 'xXm8Xx', 1935, 'Gracul', 1972, 'c4,d6,Nc3,g6,d4,Bg7,e4,c6,Nf3,Nd7,Bd3,e5,d5,Ndf6,Be3,Ne7,Qd2,Bd7,O-O-O,a5,a4,cxd5,cxd5,Rc8,Kb1,Ng4,Bb5,Nxe3,Qxe3,O-O,Qa7,f5,Qxb7,Rc7,Qb6,fxe4,Nxe4,Bf5,Rhe1,Qc8,Ka2,Bxe4,Rxe4,Rf6,Ng5,Rc5,Ne6,Nxd5,Rxd5,Qxe6,Bc4', 'Rxc4,Rxc4,Qxd5', 'https://lichess.org/training/swtEn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SWTLJ', 'Rapid', 'p64savage', 2103, 'ChurkinKS', 2075, 'e4,e6,d4,d5,exd5,exd5,Nf3,c6,Bg5,Nf6,Bd3,Be7,c3,Bg4,O-O,Nbd7,Re1,O-O,Nbd2,Re8,h3,Bh5,Qc2,Bg6,Bxg6,hxg6,Re2,Bd6,Rae1,Rxe2,Rxe2,Qf8,Ne5,Re8,Ndf3,Nb6,Bxf6,gxf6,Ng4,Nd7,Qd1,Re4,Rxe4,dxe4,Nd2,f5,Ne3,b5,Qb3,Bf4,d5,Bxe3,fxe3,Qc5,Kf2,Qxd5,Qxd5,cxd5,Nb3,Kg7,Nd4,a6,Nc6,Nc5,Ke2,Na4,Ne7,Nxb2,Nxd5,Nc4,Nc7,Nb6,Nxa6,Na4,Kd2,Nb2,Nc7,Nc4+,Ke2,Nd6,Nd5,Kf8,Kd2,Nc4+,Kc2,Nxe3+,Nxe3,Ke7,Nd5+,Kd6,Nb4,Kc5,Kb3,e3,Nc2,f4,a4', 'bxa4+,Kxa4,Kc4', 'https://lichess.org/training/SWTLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sWTTp', 'Blitz', 'GM E-Shaposhnikov', 2745, 'DanielTor', 2145, 'Nf3,Nf6,d4,g6,c4,Bg7,e3,O-O,Be2,d6,Nc3,c5,b3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bb2,Bb7,O-O,Qc7,Qc2,e6,Rac1,d5,cxd5,exd5,Na4,Rfe8,Rfd1,Rad8,Bd4,Ba8,Qb2,Re6,h3,Ne8,Nc5,Re7,Bxg7,Nxg7,b4,Ne6,a3,Nxc5,Rxc5,Qe5,Qxe5,Rxe5,Ra5,Rd7,Bf3,f5,h4,Kf7,g3,Ke6,Kf1,Kd6,Ke2,Rde7,Kd3,h6,Rc1,g5,hxg5,hxg5,Rh1,g4,Bg2,R5e6,Kd4,Rf6,Rh8,Bb7,Rxa7,Rfe6,Ra5,Rf6,Rh5,Rd7,Rc5,Re7,a4,Rfe6,b5', 'Re4+,Bxe4,Rxe4+,Kc3,Kxc5', 'https://lichess.org/training/sWTTp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SwuFP', 'Rapid', 'dazler47', 2242, 'zugauyah2020', 2178, 'e4,d5,exd5,Qxd5,d4,Nf6,Nf3,Bg4,Be2,c6,O-O,e6,Nbd2,Be7,Re1,O-O,h3,Bf5,c3,Nbd7,g4,Bg6,Nh4,b5,Nxg6,fxg6,Bf3,Qd6,Qb3,Nd5,Bg2,Bh4,Ne4,Qe7,Bd2,N7f6,Ng5,Bxf2+,Kxf2', 'Ne4+,Kg1,Nxd2', 'https://lichess.org/training/SwuFP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SWwDp', 'Blitz', 'IM Acosta-Pablo', 2513, 'skyofdreams', 2253, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,O-O,e4,c6,Nge2,e6,e5,Ng4,d4,d6,h3,Nh6,Bf4,dxe5,dxe5,Nf5,O-O,Nd7,Nd4,Nxe5,Nxf5,gxf5,Qxd8,Rxd8,Rad1,Bd7,b3,Nxc4,bxc4,Bxc3,Rb1,b5,c5,Be8,Rfd1,Rd4,Be3,Rd7,Rxd7,Bxd7,Rd1,Rd8', 'Bxc6,Bxc6,Rxd8+', 'https://lichess.org/training/SWwDp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Swx7X', 'Rapid', 'Bredala', 1694, 'Feluda2008', 1673, 'e4,Nf6,e5,Nd5,d4,d6,Bc4,Nb6,Bb3,dxe5,Nf3,exd4,Nxd4,c5,Nb5,Qxd1+,Kxd1,Kd8,Ke2,a6,Rd1+,N8d7,N5c3,c4,Ba4,Nxa4,Nxa4,Ke8,Bf4,e5,Bg5,f6,Bh4,b5,Nac3,Bb7,f3,Nc5,Nd5,Bxd5,Rxd5,Rd8,Rxd8+,Kxd8,Nc3,Be7,Rd1+,Ke8,Nd5,Kf7,Bf2,Rd8', 'Nxe7,Rxd1,Kxd1', 'https://lichess.org/training/Swx7X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SwXJY', 'Rapid', 'NikolaZivanovic98', 2191, 'Tongayi_online', 2181, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,c4,Ngf6,Nc3,g6,d4,cxd4,Nxd4,Bg7,f3,Rc8,b3,Qb6,Be3,O-O,Nf5,Qd8,Nxg7,Kxg7,Qd2,a6,Bh6+,Kg8,Bxf8,Nxf8,O-O,Ne6,Nd5,Nxd5,Qxd5,Qb6+,Kh1,Rc5,Qd2,Rh5,f4,Qc6,Rae1,Nc5,Qe3,a5,f5,Rh4,Rf4,Rxf4,Qxf4,Nd3,Qe3,Nxe1,Qxe1,Qc5,fxg6,hxg6,g3,b6,Kg2,Qd4,Qe2,Qa1,Kf3,Qh1+,Ke3,Qg1+,Kd3,e5,Kc2,Qa1,Kd3,Qd4+,Kc2,Kg7,Qd3,Qc5,Kb2,Kf6,Qd5,Qd4+', 'Qxd4,exd4,Kc2,Ke5,Kd3', 'https://lichess.org/training/SwXJY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('swY6Q', 'Classical', 'jalej', 1699, 'AndresJMR', 1743, 'e4,e5,Bc4,Nf6,d3,Nc6,c3,Bc5,Nf3,d6,b4,Bb6,O-O,Bg4,Nbd2,O-O,Re1,a5,b5,Na7,a4,c6,Nf1,cxb5,axb5,d5,exd5,Nxd5,Rxe5,Nxc3,Qb3,Bxf3,Qxc3,Bg4,Bb2,Qf6,Re4', 'Qxf2+,Kh1,Qg1#', 'https://lichess.org/training/swY6Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sWymN', 'Blitz', 'Karpochnoi_MI', 2080, 'NM SicilianTM', 2084, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Bg5,Ne4,Bh4,Nxc3,bxc3,dxc4,e4,c5,Bxc4,cxd4,Qb3,O-O,cxd4,Nc6,Rd1,Na5,Qc3,Nxc4,Qxc4,Qa5+,Rd2,Bg4,Ke2,Rfc8,Qd3,e6,Be7,Rc3,Qb1,Rac8,Rhd1,Bxf3+,gxf3,R3c7,Bd6,Rc6,e5,Qa6+,Ke1,b6,Qb3,Qc4,Qxc4,Rxc4,Ke2,Rc2,Rxc2,Rxc2+,Rd2,Rxd2+,Kxd2,Bf8,Kc3,Bxd6,exd6,Kf8,Kb4,a6,a4,Ke8,a5,b5,Kc5,Kd7,h4,h6,f4,h5,d5,exd5,Kxd5,f6,Kc5,b4,Kxb4,Kxd6,Kc4,Kc6,Kd4,Kb5,Kd5,Kxa5,Ke6,Kb5', 'Kxf6,a5,Kxg6,a4,f5,a3,f6,a2,f7,a1=Q,f8=Q', 'https://lichess.org/training/sWymN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sWyn3', 'Rapid', 'Tombar', 1791, 'StevanKacicka789', 2018, 'e4,e6,Nf3,c5,b4,cxb4,a3,bxa3,Bxa3,Bxa3,Nxa3,Nf6,e5,Nd5,c4,Ne7,Nb5,O-O,Nd6,Nbc6,Bd3,Ng6,Bxg6,hxg6,d4,a6,d5,exd5,cxd5,Ne7,Qd3,Rb8,O-O,b5,Ng5,Bb7,Nxb7,Rxb7,Rxa6,b4,Rb1,Qb8,d6,Nf5,g4,Nh6,f3,Rb5,Ra8', 'Qb6+,Kg2,Rxa8', 'https://lichess.org/training/sWyn3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SWYTv', 'Rapid', 'CucumberPower', 1833, 'DragVik', 1823, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,b6,a3,Bxc3+,Qxc3,Bb7,Bg5,h6,Bh4,g5,Bg3,Ne4,Qc2,Nxg3,hxg3,Qf6,Nf3,d6,e3,Bxf3,gxf3,Qxf3,Rh2,Nd7', 'Bg2,Qg4,Bxa8', 'https://lichess.org/training/SWYTv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('swyuk', 'Bullet', 'drey2kool', 1692, 'skutulass', 1747, 'e4,e6,d4,c6,Nf3,d5,e5,c5,c3,cxd4,cxd4,Nc6,a3,Bd7,b4,a6,Bb2,Nge7,Nbd2,Nf5,Nb3,Be7,Be2,O-O,O-O,b5,Rc1,Rc8,Nc5,Bxc5,dxc5,Nce7,Re1,Bc6,Nd4,Nxd4,Bxd4,Ng6,Qd2,Ra8,Bc3,Ne7,f4,Nf5,Bd3,d4,Bb2,Qh4,Bxf5,exf5,Qxd4,Be4,Re3,Qxf4,Rg3,Rad8,Qc3,Rd2,e6,f6,e7', 'Qf2+,Kh1,Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/swyuk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sX3p3', 'Rapid', 'Stano24', 1926, 'Chess_King_1000', 1835, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,Bc5,Nf3,O-O,O-O,d6,h3,h6,Na4,Bb6,Nxb6,axb6,a3,Re8,c3,Na5,Ba2,Be6,Bxe6,Rxe6,Be3,Nh5,b4,Nc6,Qd2,Rg6,Nh2,Ne7,g4,f5,Kh1,fxg4,Nxg4,Nf6,Nxf6+,Rxf6,Rg1,Ng6,Bxh6,gxh6,Qxh6,Qe8,Rg3,Kf7,Rag1,Qg8,h4,Qg7,Qxg7+,Kxg7,h5,Rh8,Rxg6+,Rxg6,Rxg6+,Kf7,Kg2,Rxh5,Rg3,c6,Kf3,d5,exd5,cxd5,Ke3,Kf6,Rg8,Rh3+,Ke2,e4,Rg3,Rh4,dxe4,dxe4,Ke3,Kf5,c4,Rh7,Rg8,Rh3+,Ke2,Rxa3,Rb8,Ra2+,Kf1,Ra4,Rxb7,Rxb4,c5,Ke6', 'Rxb6+,Rxb6,cxb6', 'https://lichess.org/training/sX3p3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxaJv', 'Rapid', 'S_Mahdi_Sohi', 1776, 'akramsoub', 1608, 'e4,e5,Nf3,Nc6,Bc4,Be7,Nc3,Nf6,h3,O-O,O-O,d6,d3,Na5,Bb3,Nxb3,axb3,c6,Ne2,Qc7,c3,d5,exd5,cxd5,c4,d4,Ng3,Nd7,Nf5,Bf6,Nh2,Nc5,Ng3,Re8,b4,Ne6,b3,Bd7,Qh5,g6,Qf3,Bg7,Ne4,Bc6,Re1,f5,b5,fxe4,dxe4,Bd7,Ba3,Bf8,Qf6,Bxa3,Rxa3,Rf8,Qe7,Rae8,Qb4,Nf4,Qd2,Qd6,Rxa7,d3,b4,Ne2+,Rxe2,dxe2,Qxd6,e1=Q+,Nf1,Qxf2+,Kh2,Qxf1,Qxd7,Rd8,Qxb7,Rf7,Qb6,Rxa7,Qxd8+,Qf8,Qd5+,Rf7,Qxe5,Qxb4,Qe8+,Rf8,Qc6,Qe7,b6,Qe5+,Kg1,Qd4+,Kh2,Qe5+,Kg1,Qd4+,Kh2,Rf1,Qd5+,Qxd5,exd5,Kf8,c5,Ke8', 'b7,Rb1,c6,Ke7,c7,Rxb7,c8=Q', 'https://lichess.org/training/sxaJv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SXBKz', 'Blitz', 'FM cruiskeen', 2317, 'SpringSky409', 2183, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nxe5,d4,Bd6,dxe5,Bxe5,f4,Bxc3+,bxc3,d6,Qd4,Qf6,Be2,Qxd4,cxd4,Ne7,O-O,O-O,c4,Nc6,Bb2,b6,Rae1,Rb8,Bf3,Na5,c5,Ba6,Rf2,dxc5,dxc5,bxc5,Ba3,Nb7,Rb1,Rfd8,Rfb2,Bd3,Rc1,c4,Kf2,Nd6,Rxb8,Rxb8,e5,Nf5,Be2,Rd8,Bc5,a6,Rd1,Rd5,Ba7,g6,g4,Ne7,Bxd3,cxd3,Ke3,Nc6,Rxd3', 'Rxd3+,Kxd3,Nxa7', 'https://lichess.org/training/SXBKz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxdps', 'Rapid', 'Justin_P', 1774, 'ju-ri', 1813, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,Ng5,O-O,Bxf7+,Rxf7,Nxf7,Kxf7,d3,d6,f4,Bg4,Qd2,exf4,Qxf4,Qd7,O-O,Rf8,Nd5,Be6,Nxe7,Nxe7,e5,Ng6,Qd4,Nxe5,Bf4,c5,Qc3,Ng6,Bg5,Kg8,Rf3,Ne5,Rf4,b5,a3,c4,Raf1,Ng6,R4f2,cxd3,Bxf6,gxf6,Rxf6,dxc2,Qxc2,Bc4,Rxf8+,Nxf8,Rf5,Ng6,Qf2,Qe6,Rf6,Qe5,h4,Qc5,h5,Qxh5,Rxd6,Qe5,Rd8+,Kg7,Qxa7+,Kh6,Qf2,Qe2,Qf6,Qe1+,Kh2,Qh4+,Qxh4+,Nxh4,a4,Nf5,Rb8,bxa4,Rb6+,Kg5,Rb4,Bb3,Kg1,h5,Kf2,h4,Kf3,Bd1+,Kf2,Nd6', 'Rd4,Bg4,Rxd6', 'https://lichess.org/training/sxdps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxEdR', 'Rapid', 'Muleskinner', 1950, 'wizarddex', 1791, 'e4,g6,Nc3,Bg7,f4,e6,Nf3,Ne7,Bc4,a6,d4,b5,Bb3,d5,O-O,Bb7,e5,Nbc6,Qe1,Nf5,Ne2,a5,c3,b4,g4,Nfe7,Ng3,Ba6,Rf2,bxc3,bxc3,Nb8,f5,exf5,gxf5,Nxf5,Bg5,Qd7,Nxf5,Qxf5,Bxd5,c6,Bb3,O-O,Qe3,Re8,Bh6,Nd7,Nh4,Qg4+,Ng2,Nf6,Qd2,Nd5,c4,Ne7,Rf4', 'Bxh6,Rxg4,Bxd2', 'https://lichess.org/training/sxEdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sXEek', 'Blitz', 'denad412', 1866, 'pawn_island', 1878, 'Nf3,e6,c4,d5,cxd5,exd5,d4,Nf6,g3,Bg4,Bg2,Bd6,Nc3,c6,O-O,O-O,a3,Nbd7,b4,b5,Nd2,a5,f3,Bh5,e4,axb4,Nxb5,Bxg3,hxg3,cxb5,Bb2,dxe4,axb4,e3,Nb3,Qc7,Kh2,Bg6,f4,Ng4+,Kg1,Bh5,Rxa8,Rxa8,Bxa8,Nb6,Qc1,Nc4,Bf3,Qe7,Nc5,e2,Re1,Nxb2,Qxb2,Qe3+,Kg2', 'Qf2+,Kh3,Qh2#', 'https://lichess.org/training/sXEek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SXej4', 'Blitz', 'vish_007', 1760, 'Butuzov_V', 1736, 'd4,c6,c4,d5,Nc3,Bf5,e3,e6,cxd5,cxd5,Bd3,Ne7,Bxf5,Nxf5,Nf3,Bd6,e4,dxe4,Nxe4,Bb4+,Bd2,Qa5,O-O,O-O,Bxb4,Qxb4,Ng3,Nxg3,fxg3,Nc6,b3,Rac8,Ne5,Nxe5,dxe5,Rfd8,Qf3,Qd4+,Kh1,Rf8,Rad1,Qxe5,Rd7,Rc7', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/SXej4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SXEsw', 'Rapid', 'Tertho', 1641, 'Apilas', 1656, 'd4,e5,d5,Bc5,e4,Qf6,Nf3,d6,Nc3,Bg4,Nb5,Na6,Be2,c6,Nc3,b5,h3,Bh5,Bg5,Qg6,g4,h6,gxh5,Qxh5,Be3,Bxe3,fxe3,Nf6,dxc6,Nc5,Qxd6,Ncxe4,Nxe4,Nxe4,Qd5,Ng3,c7,O-O,Rh2,Nxe2,Kxe2,Rac8,Qc6,e4,Qxe4,Rxc7,c3,Rc4,Qe5,Qg6,Nd4,a6,Rf2,Kh8,Rc1,f6,Qd6,Re8,b3,Qh5+,Kd3,Rc5,Rf5', 'Rxf5,Nxf5,Qxf5+', 'https://lichess.org/training/SXEsw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxeT2', 'Rapid', 'Aleysk', 1883, 'Cherov', 1852, 'Nf3,Nf6,d4,g6,c4,Bg7,Nc3,O-O,Bg5,c6,Qd2,Qc7,Rc1,Re8,g3,a6,Bg2,d6,O-O,Bg4,b4,Qd7,c5,dxc5,Ne5,Qc8,Nxg4,Nxg4,Bh3,cxd4,Ne4,f5,Nc5,b6,Nb3,e5,a4,Qe6,Qc2,Rc8,Nd2,b5,axb5,axb5,Nb3,Nd7,Na5,Bf8,Nxc6,Ra6', 'Ne7+,Bxe7,Qxc8+', 'https://lichess.org/training/sxeT2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxeW4', 'Rapid', 'jag7', 1733, 'VanhelsingIV', 1792, 'e4,c5,d3,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nf6,Nc3,Qe6,O-O,Bxf3,Bxf3,Nbd7,Bxb7,Rb8,Bf3,a6,Bg5,Qf5,Bxf6,Nxf6,Ne4,e6,c4,Rxb2,Qa4+,Ke7,Qxa6,g6,Qa7+,Nd7,a4,Bg7,Rae1,Bd4,a5,Rb3,Rd1,Rhb8,a6,h5,h3,h4,Qc7,Be5,Qa5,Ra8,a7,Rb7,Ng3,hxg3,Bxb7,gxf2+,Rxf2,Bd4,Rf1,Rh8,a8=Q,Rxh3,Bf3,Qg5,Qb5,Rxf3,Qxf3,Ne5,Qfb7+,Kf8,Qc8+,Kg7,Qbe8', 'Nf3+,Kh1,Qh4#', 'https://lichess.org/training/sxeW4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SxEy8', 'Rapid', 'Sersuper', 1608, 'ajbieber', 1682, 'e4,c5,b3,Nc6,Bb2,d6,d3,Nf6,Nd2,g6,Be2,Bg7,h3,Nd4,c3,Nxe2,Nxe2,d5,e5,Nd7,d4,cxd4,cxd4,O-O,O-O,Nb6,Nf3,f6,Ng3,f5,h4,f4,Nh1,Bd7,Bc1,Bb5,Re1,e6,a4,Bc6,Ng5,Qe7,f3,h6,Nh3,Qxh4,Kh2,Nc8,Rg1,Ne7,Bd2,Nf5,Be1,Ng3,Nxg3,fxg3+,Bxg3,Qh5,Rh1,Rf5,Kg1,g5,Nf4,Qf7,Nh5,Bf8,Nf6+,Kg7,Rh5,Qg6,Kf2,g4,f4,Rxh5,Nxh5+,Qxh5,Qd2,Be7,Rh1,Qg6,Bh4,Bxh4+,Rxh4,g3+,Kf3,h5,Qe1,Rf8,Qh1,Qe4+,Kxg3,Qe3+,Kh2,Rxf4,Rxh5,Kg6,Rh3,Qf2,Rg3+,Kf5', 'Qb1+,Re4,Rf3+,Qxf3,gxf3', 'https://lichess.org/training/SxEy8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SXG2W', 'Rapid', 'womanizer', 1800, 'Kolmix1', 1798, 'd4,g6,c4,Bg7,Nf3,e6,Nc3,Ne7,e4,h6,Be2,d6,O-O,Nd7,Be3,b6,Rc1,a6,Qd2,g5,h3,Ng6,Bd3,e5,dxe5,Ndxe5,Nxe5,Nxe5,b3,Qf6,Nd5,Qd8,f4,Nxd3,Qxd3,gxf4,Rxf4,Be6,Rcf1,Qd7,Bd4,Bxd4+,Qxd4,O-O-O,Rf6,Rdg8,Kh2,Rg5,Qe3,Rhg8,R1f2,Qd8,Rxh6,Qf8,Rh4,Kd7,Nf4,Qg7,Qd2,Re5,Nxe6', 'Qg3+,Kh1,Qxh4', 'https://lichess.org/training/SXG2W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sXgrp', 'Rapid', 'feeld', 1930, 'DON-JAQUE', 1756, 'd4,d5,Nf3,g6,e3,Bg7,Bd3,f5,O-O,Nf6,c4,e6,Nc3,O-O,cxd5,exd5,Qb3,c6,Nd2,Kh8,f3,Nbd7,e4,fxe4,fxe4,dxe4,Ndxe4,Nxe4,Nxe4,Rxf1+,Kxf1,Bxd4,Qf7,Qf8,Ng5,Bg7,Be3,Ne5', 'Qxf8+,Bxf8,Bd4', 'https://lichess.org/training/sXgrp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxGx3', 'Rapid', 'chamlinghemraj', 2061, 'duplikat-chess', 2013, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Be7,d4,Bd7,Nc3,Nf6,Re1,exd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,O-O,Bg5,Ng4,Bf4,a6,h3,Nf6,Rad1,Qe6,e5,dxe5,Rxe5,Rad8,Qe3,Rxd1+,Nxd1,Qd7,Rxe7,Qxd1+,Kh2', 'Nd5,Qe4,Nxe7', 'https://lichess.org/training/sxGx3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sXh7f', 'Rapid', 'evur', 1925, 'panchoslav', 1945, 'd4,d5,Nf3,c6,e3,e6,Be2,f5,O-O,Nf6,Nbd2,Bd6,g3,O-O,c4,Bd7,c5,Bc7,a3,Ne4,b4,Be8,Nxe4,fxe4,Ne5,Bxe5,dxe5,Nd7,Bb2,Qg5,f4,exf3,Rxf3,Rxf3,Bxf3,Nxe5,Bxe5,Qxe5,Qd4,Qxd4,exd4,Kf7,Bg4,Ke7,Re1,Bd7,Re5,g6,Bf3,a5,b5,a4,b6,Ra5,Be2,Ra8,h4,Rf8,Kg2,h6,Bf3,Be8,Bg4,Bf7,Bd1,Ra8,Be2,Rg8,g4,Kf6,g5+,hxg5,hxg5+,Ke7,Bf3,Rh8,Kg3,Ra8,Be2,Kd7,Re3,Rh8,Bf3,Re8,Kf4,Ke7,Bd1,Rh8,Bxa4,Rh4+,Ke5,Rg4,Bc2,Rxg5+,Kf4,Rg1,a4,g5+,Ke5,Ra1,Bb3,g4,Kf4,Rg1,a5,Ra1,Kxg4,Rxa5,Bc2,Rb5,Kf4,Rb4,Ke5,Rb2,Bd1,Rd2,Bg4,Rg2,Bf3,Rg5+,Kf4,Rf5+,Kg3,Kf6,Be2,e5,dxe5+,Rxe5,Rf3+,Ke6,Bd3,d4', 'Bc4+,Kd7,Rxf7+', 'https://lichess.org/training/sXh7f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxhXc', 'Blitz', 'clipped', 1551, 'PavolIvanovich', 1580, 'd4,d5,c4,c6,Nc3,Bf5,c5,Nf6,e3,e6,Bd3,Bxd3,Qxd3,Be7,Nf3,O-O,b4,Nbd7,a4,b6,Bb2,Ne8,Ne2,Bf6,b5,cxb5,axb5,e5,c6,e4,Qa3,exf3,cxd7,Qxd7,gxf3,Nc7,Nc3,Nxb5,Nxb5,Qxb5,Qa4,Qxa4,Rxa4,Rfe8,O-O,Re6,Rc1,Ree8,Ra3,Be7,Rac3,f6,Ba3,Bxa3,Rxa3,Kf7,Rac3,Kg6,Rc7,Reb8,Rd7,Rd8,Rxd8,Rxd8,Rc7,a5,Rb7,Ra8,Rxb6,a4,Rb2,a3,Ra2,Kf5,Kg2,g5,Kg3,h5,h4,g4,fxg4+,hxg4,f3,gxf3,Kxf3,Rh8,Rh2,a2,Rxa2,Rxh4,Rf2,Rh3+,Kg2+,Kg4,Rxf6,Rxe3,Rd6,Re2+,Kf1,Kf3', 'Rf6+,Ke3,Re6+,Kd2,Rxe2+', 'https://lichess.org/training/sxhXc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxInS', 'Rapid', 'luis22palo22', 1925, 'zero-giulio', 2001, 'e4,e6,d4,d5,exd5,exd5,Bd3,h6,Ne2,Nf6,O-O,c5,c3,c4,Bc2,Be7,Bf4,O-O,Re1,Re8,Nd2,Nc6,Nf1,a6,Bb1,b5,Qc2,Bd6,Bxd6,Qxd6,Nfg3,Ne7,Nh5,Ng6,Nxf6+,Qxf6,Qd2,Bg4,f3,Bf5,Bxf5,Qxf5,Ng3,Qf4,Qxf4,Nxf4,Rab1,Kf8,Rxe8+,Rxe8,Kf2,Re6,b3,h5,bxc4,dxc4,Ne4,Rg6,g3,Nd3+,Ke3,Re6,Kd2,Ke7,a4,Rb6,axb5,axb5,Nc5,b4,Nxd3', 'bxc3+,Kxc3,Rxb1', 'https://lichess.org/training/sxInS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxjzo', 'Blitz', 'jim2600', 2458, 'NM pneumatico94', 2433, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Bg4,O-O,Nfd7,Be3,Nc6,Ne1,Bxe2,Nxe2,e5,d5,Ne7,Nd3,f5,f3,fxe4,fxe4,Rxf1+,Kxf1,Nf6,Nc3,Qd7,h3,Rf8,Kg1,h6,c5,g5,Qb3,b6,cxd6,cxd6,Qa4', 'Qxa4,Nxa4,Nxe4', 'https://lichess.org/training/sxjzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sxk9L', 'Blitz', 'weeza', 2119, 'zuckertort2', 2128, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,d6,O-O,Nf6,dxe5,dxe5,Qb3,O-O,Rd1,Qe8,Ba3,Bb6,Bxf8,Qxf8,Bd5,Na5,Bxf7+,Qxf7', 'Rd8+,Ne8,Rxe8#', 'https://lichess.org/training/Sxk9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SXkfQ', 'Bullet', 'GM dmitrij_IM', 2924, 'GM kyart2', 2894, 'b3,d5,Bb2,c5,Nf3,f6,e3,e5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,d3,Bd6,e4,d4,Nh4,Nge7,Nd2,O-O,a4,g5,Nf5,Nxf5,exf5,Qxf5,Ne4,Be7,g3,Qg6,Nd2,f5,Qe2,Rae8,Rae1,Bd6,Nc4,Bc7,Kh1,b6,Qf3,e4,Qg2,h5,Re2,f4,gxf4,exd3,Rxe8,Rxe8,cxd3,Bxf4,Bc1,Bxc1,Rxc1,Nb4,Rg1,Nxd3,Qd5+,Kh7,Rxg5,Nxf2+,Kg2,Qe4+,Kxf2,Rf8+,Kg1,Qe1+,Kg2,Qf2+,Kh3,Rf3+,Rg3,Qf1+,Kh4,Rf4+,Kg5,Rf7,Qe4+,Kh8,Kh6', 'Qf6+,Kxh5,Rh7+', 'https://lichess.org/training/SXkfQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxKGK', 'Blitz', 'CarlsenForever', 2216, 'Orekhov_N', 2218, 'Nf3,Nf6,c4,c5,g3,g6,Bg2,Bg7,O-O,O-O,d3,d6,Nc3,Nc6,Rb1,Bd7,a3,a6,b4,cxb4,axb4,Rc8,b5,axb5,Nxb5,Bg4,h3,Bxf3,Bxf3,Nd7,Bd2,Kh8,Kh2,f5,Nc3,Nc5,Nd5,e6,Nc3,Rf7,Nb5,f4,Bxf4,Rxf4,gxf4,Qh4,e3,e5,Bxc6,bxc6,Nxd6,Rf8,Qg4,Qe7,Ne4,exf4,Nxc5,Qxc5,e4,f3,Kh1,Qd4,Rb7,Qxd3,Rc1,Bh6,Rg1,Bg7,Qd7,Qc3,Rd1,Rg8,Qf7,Qc2,Rf1,Qxe4,Re7,Qd3,Rfe1,Qd2,Kg1', 'Qg5+,Kf1,Qg2#', 'https://lichess.org/training/sxKGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SxLu0', 'Classical', 'vasiliyvasiliy', 1620, 'Arun3', 1695, 'e4,e5,a3,Nc6,c3,Nf6,d3,Bc5,Be2,d6,h3,O-O,Nf3,Ne7,Nh2,Ng6,O-O,Be6,Nd2,Nf4,Ng4,Nxe2+,Qxe2,Nxg4,hxg4,Qh4,Nf3,Qxg4,Rd1,Rfe8,Be3,Bxe3,Qxe3,Qh5,Qg5,Bg4,Qxh5,Bxh5,d4,Re6,d5,Rg6,Rd3,Rg4,Re1,Bg6,Rde3,c6,c4,c5,Nh2,Rh4,Nf3,Rf4,g3,Rf6,Nh4,Bh5,Nf5,g6,Nh4,a6,Kh2,Rxf2+,Kh3,Rxb2,g4,g5,gxh5,gxh4,Kxh4,Rc2,Rg1+,Kh8,Kg5,Rg8+,Kf6,Rxg1,Kxf7,Rg7+,Ke6,Rf2,Kxd6,b6,Kxe5,Rg5+,Ke6,Kg7,d6,Rf6+,Ke7,Re5+,Kd7,Ree6,e5,Rxd6+,exd6,b5,cxb5,axb5,Re6,b4,axb4,cxb4,Ke7,Rf7+,Ke8,b3,d7,b2,d8=Q,Rf8+,Kd7', 'Rxd8+,Kxd8,b1=Q', 'https://lichess.org/training/SxLu0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxmDX', 'Blitz', 'NazgooL', 1666, 'ivanglaz', 1632, 'd4,Nf6,Nf3,d5,e3,Bg4,c4,dxc4,Bxc4,e6,O-O,Be7,Nbd2,O-O,Qb3,c6,Qxb7,Nbd7,Qxc6,Rc8,Qa4,Nb6,Qb3,Bxf3,gxf3,h6,Be2,Qc7,Ne4,Nxe4,fxe4,e5,d5,Bd6,Bd2,f5,f3,f4,exf4,exf4,Rac1,Qd7,Bc3,Qh3,e5,Bb8,d6+,Kh8,Bb4,Rf5,Rxc8+,Nxc8,d7', 'Rg5+,Kh1,Qg2#', 'https://lichess.org/training/sxmDX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sXO1C', 'Rapid', 'Cippolinno', 1900, 'invachess90', 1829, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,g6,d3,Bg7,Be3,Nc6,h3,Nd4,Nge2,e5,O-O,O-O,f4,Nxe2+,Qxe2,Nh5,Kh2,f5,Nd5,fxe4,Bxe4,exf4,Nxf4,Nxf4,Rxf4,Be5,Rxf8+,Kxf8,Rf1+,Kg7,Qf3,Be6,b3,Qh4,Qg2,d5,Bf3,Bxh3', 'Qxh3,Bxg3+,Kg2,Qxh3+,Kxh3', 'https://lichess.org/training/sXO1C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxoVE', 'Rapid', 'HazirZ1', 2153, 'Abdykerim_77', 2093, 'e4,g6,d4,Bg7,c3,d6,f4,e6,Bd3,Ne7,Nf3,c6,Be3,b5,Nbd2,a6,Qc2,d5,g4,dxe4,Nxe4,Nd5,Bd2,O-O,h4,e5,Nxe5,Bxe5,fxe5,Bxg4,Bg5,Qd7,Qd2,h5,Bf6,Kh7,Ng5+,Kg8,Ne4,Kh7,Qg5,Qf5,Qd2,Qf4,Qxf4,Nxf4,Bf1,Nd7,Kd2,Bf5,Ng5+,Kh6,Re1,Nxf6,exf6,Nd5,Bg2,Nxf6,Bxc6,Rac8,d5,Rcd8,Re5,Ng4,Re7,Kg7,Rhe1,Nf6,R1e5,Rd6,b3,Ng4,Re2,Nh6,c4,bxc4,bxc4,Bg4,R2e5,Nf5,Ne6+,Rxe6', 'R5xe6,Nxe7,Rxe7', 'https://lichess.org/training/sxoVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SxpgR', 'Blitz', 'Yurtaev1990', 1751, 'Nandu_K', 1791, 'c4,Nf6,e3,e6,Nc3,Bb4,Qc2,b6,a3,Bxc3,Qxc3,Bb7,d4,Ne4,Qc2,d5,cxd5,Bxd5,Bd3,Nf6,e4,Bb7,Bg5,Nbd7,e5,h6,exf6,hxg5,fxg7,Rg8,Nf3,Bxf3,gxf3,Rxg7,Rg1,Qe7,b4,O-O-O,Be4,Kb8,Qd3,Qd6,Qa6,c6,Rc1,f5,Rxc6,Qxd4', 'Rc8+,Rxc8,Qb7#', 'https://lichess.org/training/SxpgR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sXPGW', 'Blitz', 'andrewAA', 1873, 'swapnil-997003', 1524, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bg4,O-O,Nf6,d3,d5,exd5,Nxd5,Nbd2,Be7,Ne4,O-O,h3,Bf5,Ng3,Qd7,Nxf5,Qxf5,d4,exd4,cxd4,Bf6,Be3,Rad8,Bd3,Qe6,Re1,Ncb4,Bc4,Qd6,a3,Nc6,Ne5,Nxe3,Rxe3,Bxe5,Qf3,Bxd4,Rd3,Qe5,Rad1,Bxb2,Rxd8,Rxd8', 'Qxf7+,Kh8,Rxd8+,Nxd8,Qf8#', 'https://lichess.org/training/sXPGW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SxQFg', 'Rapid', 'one_minutes', 1791, 'order523', 1772, 'e4,e5,c3,Nc6,Nf3,Nf6,Bc4,Nxe4,Qb3,Nd6,Bd5,Qf6,O-O,h6,d4,exd4,cxd4,Nxd4,Nxd4,Qxd4,Be3,Qf6,Bc5,Be7,Nc3,O-O,Bxd6,Bxd6,Ne4,Qg6,f4,c6,f5,Qg4,Bxf7+,Rxf7,Nxd6,Qd4+,Kh1,Qxd6,f6,gxf6,Rad1,Qe6,Qg3+,Rg7,Qh4,Kh7,Rde1,Qg4,Qf2,Rf7,Re8,d5,Qc2+,Kg7,h3,Qg6', 'Rg8+,Kxg8,Qxg6+', 'https://lichess.org/training/SxQFg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SxQns', 'Classical', 'Stranio', 1867, 'ZZCrewe', 1984, 'd4,b6,c4,e6,Nf3,Bb7,e3,Nf6,Bd3,Be7,O-O,O-O,Nbd2,d5,b3,Nbd7,Bb2,Rc8,cxd5,Nxd5,e4,Nf4,Bc2,Ba6,Re1,Nd3,Bxd3,Bxd3,Re3,Ba6,Rc1,c5,d5,exd5,exd5,Bf6,Bxf6,Nxf6,Nc4,b5,Nce5,Qxd5,Rd3,Qe6', 'Rd6,Qf5,Rxa6', 'https://lichess.org/training/SxQns');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SxSe9', 'Blitz', 'edisto', 1867, 'jorginho_bull', 1901, 'e4,c5,b3,e5,Bb2,Nc6,Bb5,Nd4,Bc4,Nf6,Nf3,d6,Nxd4,cxd4,f3,Be7,O-O,O-O,f4,Bg4,Qe1,b5,Bxb5,Qb6,Bd3,Nh5,fxe5,dxe5,Na3,Nf4,Nc4,Qc5,Ba3,Qc7,Bxe7,Qxe7,Qg3,Nxd3,cxd3,Be2,Rf2,Bh5,Qxe5,Qxe5,Nxe5,Rac8,Nc4,Bg6,Raf1,h5,h3,Rc5,g3,a5,Kg2,a4,b4,Rc7,a3,Bxe4+,dxe4,Rxc4,Rf5,h4,gxh4,Rc2,R1f2,Ra2,R5f3,f6,Rd3,Rd8,Kf3,Kf7,Kf4,Ke6,h5,Rh8,Kg4,Rd8,Rf5,Rc2,Ra5,Rc1,Rxa4,Rg1+,Kh4', 'g5+,hxg6,Rh8#', 'https://lichess.org/training/SxSe9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SXSyq', 'Rapid', 'dchess5959', 1741, 'Tuna76', 1803, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,d5,e5,Qb6,Nc3,Nge7,Bd3,Ng6,O-O,Be7,Qb3,Nxd4,Nxd4,Qxd4,Bb5+,Kf8,Re1,a6,Be3,Qxe5,Bc5,Qc7,Bxe7+,Qxe7,Bd3,b5,Rac1,Bb7,Ne2,Ne5,Bb1,Nc4,Nd4,Nd2,Qg3,Nxb1,Rxb1,Qf6,Qc7,Qxd4,Qxb7,Qa7,Qc6,g6,Ra1,Kg7,Rac1,Rhb8,Qd6,Rb6,Qe5+,f6', 'Rc7+,Kg8,Rxa7,fxe5,Rxa8+', 'https://lichess.org/training/SXSyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SxSzt', 'Rapid', 'Picapleitos85', 1734, 'M-Ghayoor-98', 1776, 'd4,g6,Bf4,Bg7,e4,d6,e5,dxe5,Bxe5,Bxe5,dxe5,Qxd1+,Kxd1,Nc6,Bb5,Bd7,Nf3,O-O-O,c3,Bg4+,Kc2,Bxf3,gxf3,Nxe5,Nd2,Nf6,f4,Neg4,f3,Ne3+,Kb3,c6,Ne4,Nxe4,fxe4,cxb5,Rhe1,Rd3,a4,Rhd8,axb5,Ng2,Re2,Nxf4,Rf2,e5,Rxa7,Rd2,Ra8+,Kc7,Rxd2,Rxd2,Rf8,Rxh2,Rxf7+,Kb6,c4,Rh3+,Ka4,h5,b4,Ka7,Rf6,Rh1', 'b6+,Ka6,b5#', 'https://lichess.org/training/SxSzt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SxtNW', 'Rapid', 'MARIOBB', 1670, 'Patakos', 1664, 'e3,e5,Qh5,Nc6,Bb5,Qf6,b3,a6,Bf1,Bc5,Bb2,d6,h3,Nb4,Qd1,Bf5,d3,O-O-O,a3,Nc6,b4,Ba7,Qd2,d5,a4,d4,e4,Bg6,b5,Nb8,bxa6,Nxa6,Ba3,Ne7,Bxe7,Qxe7,Nf3,Bc5,c3,dxc3,Nxc3,Bb4,Rc1,Bxe4,Be2,Bxf3,Bxf3,e4,Bg4+,Kb8,Qe3,Rxd3,Qf4,Bxc3+,Rxc3,Rxc3,O-O,h5,Be2,g5,Qd2,Rc6,Rb1,Rd8,Qe3,f6,Bxa6,Rxa6,Qb3,b6,a5,Qd6,axb6,Rxb6,Qc2,Rxb1+,Qxb1+,Kc8,Qxe4,Qd1+,Kh2,Qd6+,Kg1,Rd7', 'Qa8#', 'https://lichess.org/training/SxtNW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sXtOT', 'Blitz', 'FullurHundur', 1598, 'GiorgosKoro', 1592, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,O-O,h3,d6,a3,Nd4,c3,Nxf3+,Qxf3,Bd7,d4,exd4,cxd4,Bb6,Be3,Re8,Nc3,Ba5,Rad1,Bxc3,bxc3,Nxe4,Qxf7+,Kh8,Bd5,Nxc3,Bh6,gxh6', 'Rxe8+,Qxe8,Qf6#', 'https://lichess.org/training/sXtOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SxTrG', 'Rapid', 'mzh2', 2092, 'black-white4321', 2055, 'd4,Nf6,c4,b6,Nc3,Bb7,Nf3,e6,g3,d5,cxd5,Nxd5,Bg2,Nxc3,bxc3,g6,Bg5,Qd6,O-O,Bg7,Bf4,Qe7,Qa4+,Bc6,Qc4,O-O,Ne5,Bxg2,Kxg2,c5,dxc5,bxc5,Rfd1,g5,Qe4,gxf4,Qxa8,Bxe5,gxf4,Bxf4,e3,Be5,Rab1,Qh4,f4,Qg4+,Kh1,Bg7,Rg1,Qxg1+,Rxg1,Nd7,Qxa7,Nf6,Qxc5,Ne4,Qe5', 'Nf2+,Kg2,Bxe5,Kxf2+,Bg7', 'https://lichess.org/training/SxTrG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SxUY6', 'Rapid', 'jonzio', 1789, 'marketman', 1803, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,Nxc3,Qf3,e6,Qxc3,Nc6,Nf3,b6,O-O,Bb7,Re1,Qd7,Bb5,O-O-O', 'Ne5,Nxe5,Bxd7+', 'https://lichess.org/training/SxUY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sXvId', 'Rapid', 'leontrue', 1902, 'ithitthekitty', 1932, 'e4,c5,c3,Nf6,e5,Nd5,c4,Nb6,b3,Nc6,f4,d5,cxd5,Nxd5,Bb2,Bf5,g3,Be4,Nf3,Ne3,dxe3', 'Qxd1+,Kxd1,Bxf3+,Ke1,Bxh1', 'https://lichess.org/training/sXvId');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sXVm1', 'Blitz', 'sukrana', 1579, 'nurlan300787', 1614, 'e4,c5,Nc3,Nc6,Nf3,Nf6,Bc4,e5,O-O,d6,h3,Be7,d3,O-O,Nd5,Nxd5,exd5,Nd4,Nxd4,cxd4,c3,Bf5,Bb3,Qd7,cxd4,Bxh3,Qf3,Bg4,Qg3,h5,f4,Qd8,fxe5,Bh4,Qh2,Bg5,exd6,Bxc1,Raxc1,Qg5,Rce1,Rfd8,Re7,Rd7,Rfe1,Rxe7,dxe7,Re8,d6,Qd2,Qg3,g6,d7,Bxd7,Rf1,Rxe7,Qb8+,Re8,Bxf7+,Kh7,Bxe8,Qe3+,Kh1,Bxe8,Qd8,Bc6,Rf7+,Kh6,Qh8+,Kg5,Qf6+,Kh6,Qg7+,Kg5,Rf8', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/sXVm1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sxW4b', 'Rapid', 'ahmed654321', 1761, 'sudarsana1970', 1836, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,Nc6,h3,Bh5,Nxe5,Nxe5,Qxh5,Nf6,Qe2,Be7,Nd5,O-O,Nxe7+,Qxe7,d4,Nxc4,Qxc4,Qxe4+,Be3,Qxg2,O-O-O,Qe4,Rdg1,b5,Qxb5,Rfb8,Qg5,Qg6,Qh4,Qf5,Rg5,Qf3,Rxg7+,Kxg7,Qh6+,Kh8,Rg1,Rg8,Rxg8+,Rxg8,d5,Qf5,Bd4,Qg5+', 'Qxg5,Rxg5,Bxf6+', 'https://lichess.org/training/sxW4b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sXxx4', 'Rapid', 'DoctorKrylov', 1970, 'Laroleg', 2069, 'd4,Nf6,Bf4,d5,e3,Bg4,f3,Bd7,h4,h5,Nd2,e6,Bd3,c5,c3,Nc6,Bg5,Qb6,Rb1,Be7,f4,Ng4,Bxe7,Nxe7,Qe2,O-O,Ngf3,Nf5,Bxf5,exf5,Ne5,Bb5,Qf3,Rfe8,Nb3,Nxe3,Qxe3,f6,Nxc5,fxe5,fxe5,Qg6,Qf3,Bc6,Rh3,f4,Nd3,Bb5,Nxf4,Qxb1+,Kf2,Qf1+,Kg3,Qxf3+,Kxf3,Rf8,Ke3,Rxf4,Kxf4,Rf8+,Kg5,Bd7,Rf3,Bg4,Rxf8+,Kxf8,Kg6,Kg8,a4,a5,b3,Bd1,b4,axb4,cxb4,Bxa4,Kxh5,Kf7,Kg5,Bc2,g4,Ke6,h5,Kf7,Kf4,Kg8,g5,Kf7,h6,gxh6,gxh6,Kg6,e6,Kf6,e7,Kxe7,Ke5,Be4,h7,Bxh7,Kxd5,Kd7,Kc5,Kc7,d5,Be4,b5,b6+,Kd4,Bf3,Ke5,Kd7,d6,Be2,Kd5,Bxb5,Ke5,Be2,Kd5,b5,Kc5,Ke6,Kc6,Bf3+', 'Kc7,Kd5,d7', 'https://lichess.org/training/sXxx4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sy04j', 'Rapid', 'yashteotia', 1767, 'Ignatev', 1727, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,d3,h6,Qe2,Nf6,Bd2,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,O-O,Nb5,a6,Nxd4,Bxd4,Qf3,b5,Bb3,a5,a3,Bxb2,Rb1,Bd4,Qg3,Nh5,Qg4,Nf4,g3,Ng6,Bxh6,gxh6', 'Qxg6+,Kh8,Qxh6+', 'https://lichess.org/training/sy04j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SY20t', 'Blitz', 'Peterolsson', 2291, 'Kikuyat', 2250, 'd4,Nf6,Bf4,d6,Nc3,g6,e4,Bg7,Qd2,h6,O-O-O,d5,e5,Ne4,Nxe4,dxe4,f3,exf3,Nxf3,Bg4,Bc4,e6,h3,Bxf3,gxf3,Nc6,c3,Qd7,Rhe1,O-O-O,d5,exd5,Bxd5,Qf5,e6,Rxd5,Qxd5,Qxf4+,Kb1,Rd8,e7,Rxd5,e8=Q+,Rd8,Rxd8+,Nxd8,Rd1,Bf6', 'Qd7+,Kb8,Qxd8+,Bxd8,Rxd8#', 'https://lichess.org/training/SY20t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sy3Mz', 'Rapid', 'Mate_in_Mexico', 1698, 'J--M', 1671, 'd4,e6,Nf3,d5,Bf4,Nf6,e3,Nc6,c3,Be7,h3,O-O,Bd3,Re8,Nbd2,Bd6,Bxd6,Qxd6,O-O,e5,dxe5,Nxe5,Nxe5,Rxe5,Nf3,Rh5,Nd4,Bxh3,Qf3,Bg4,Qg3,Rd8,Qxd6,Rxd6,f3,Bxf3,Nxf3,Ng4,Be2,Nxe3,Nd4,Rg5,Rf3', 'Rxg2+,Kh1,Rh6+,Rh3,Rxh3#', 'https://lichess.org/training/Sy3Mz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SY5DE', 'Rapid', 'skreyper85', 1898, 'SOU_DO_BRAZIL', 1738, 'e4,e6,d4,Be7,c4,b6,Nc3,Bb7,Nf3,g5,h3,h5,Be3,Bf6,Qd2,g4,hxg4,hxg4,Rxh8,Bxh8,Ne5,Bxe5,dxe5,Qe7,Be2,Nc6,Bxg4,O-O-O,Bg5,f6,exf6,Nxf6,Qf4,Rf8,e5,Nb4,exf6,Qh7,Bd1', 'Nd3+,Kd2,Nxf4', 'https://lichess.org/training/SY5DE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SY6UY', 'Rapid', 'yahya1761', 1990, 'Beurrevol', 1933, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Ne7,O-O,Bf5,Re1,Bxd3,Qxd3,O-O,Ng5,Ng6,Qh3,h6,Nf3,Nc6,Bxh6,gxh6,Qxh6,Qf6,Nc3,Nb4,Re3,Nxc2,Nxd5,Qg7,Qh5,Nxa1,Ne5,Nc2,Rg3,Qh7,Qg4,Bxe5,dxe5,f6,Nxf6+,Rxf6,exf6,Re8,h3,Kf7,Qc4+,Kxf6,Rf3+,Kg5,Qg4+,Kh6,Rf6,Rg8,Qe4,Qg7', 'Qh4#', 'https://lichess.org/training/SY6UY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sy6W3', 'Rapid', 'gamalmousamdiab', 1813, 'Alagrom2', 1893, 'd4,Nf6,c4,e6,Nc3,d5,c5,b6,b4,a5,Ba3,Nc6,b5,Nb4,Bxb4,axb4,Na4,bxc5,dxc5,Ne4,e3,Nxc5,Nxc5,Bxc5,Qc2,Bd6,Nf3,Bd7,Nd4,Be5,Rd1,Bxd4,Rxd4,Qc8,Rxb4,c5,bxc6,Bxc6,Bd3,g6,O-O,O-O,Rc1,Bd7,Qb2,Qd8,h3,Qa5,Rb7,Bc8,Rbc7,Ba6,R7c5,Qd8,Bxa6,Rxa6,a3,Qe7,Qb3,Rfa8,Rc8+,Rxc8,Rxc8+,Kg7,Qc3+,f6', 'Rc7,Ra7,Rxe7+', 'https://lichess.org/training/sy6W3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sY8S1', 'Classical', 'gummibaer', 2007, 'JOSAVI', 1970, 'e4,e5,f4,d5,exd5,Nf6,fxe5,Nxd5,Nf3,Bg4,Bc4,Nc6,d4,Be7,O-O,O-O,Nc3,Nxc3,bxc3,a6,a4,Kh8,Bf4,f6,exf6,Bxf6,Qd2,Bxf3,Rxf3,Nxd4,Rd3,c5,Rf1,Qa5,cxd4,Bxd4+,Be3', 'Qxd2,Rxd2,Bxe3+', 'https://lichess.org/training/sY8S1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sYAXB', 'Rapid', 'mach247', 1673, 'kingmoff', 1761, 'e4,c6,d4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,Nf6,Bd2,Qd8,Be3,e6,h3,Bh5,Ne5,Bxe2,Qxe2,Be7,g4,h6,O-O-O,Nd5,Nxd5,Qxd5,Kb1,Na6,f4,Bf6,Bc1,Nc7,f5,Rd8,fxe6,Nxe6,Rhf1,O-O,Rf5', 'Nxd4,Rxd4,Qxd4', 'https://lichess.org/training/sYAXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SyBuQ', 'Rapid', 'beratefe1907', 1795, 'VITALSON', 1754, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nb6,Nc3,e6,Nf3,N8d7,Bf4,Bb4,a3,Bxc3+,bxc3,O-O,Bd3,c5,O-O,cxd4,cxd4,Nf6,e5,Nfd5,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,Nxf4,Nxe6+,Kh7', 'Qxg7#', 'https://lichess.org/training/SyBuQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SYByd', 'Rapid', 'tttony', 1800, 'samisayeg', 1837, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,a6,d4,b5,Be2,cxd4,Nxd4,Bb7,Nc3,Bc5,Be3,Bb6,Nxc6,Bxc6,Bxb6,Qxb6,Qd6,Nf6,Rad1,Rd8,e5,Ng8,Bf3,Ne7,Bxc6,Nxc6,Ne4,Qa7,Rd2,Ne7,Nc5', 'Nf5,Qxa6,Qxc5', 'https://lichess.org/training/SYByd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SYBZT', 'Rapid', 'tanerovic', 1859, 'oskar_123', 1852, 'e4,c6,d4,d5,e5,Bf5,f4,e6,Nf3,Nd7,Bd3,Bxd3,Qxd3,c5,c3,cxd4,cxd4,Qa5+,Bd2,Bb4,Nc3,Ne7,O-O,Nc6,Nb5,Bxd2,Nxd2,O-O,Nd6,f6,Nxb7,Qb6,Nd6,fxe5,fxe5,Ncxe5,Rxf8+,Rxf8,Qe3,Qxd6,dxe5,Qxe5,Qxa7,Qe2,Qxd7,Qxd2,Qxe6+,Kh8,h3,h6,b3', 'Qd4+,Kh2,Qxa1', 'https://lichess.org/training/SYBZT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sYdaD', 'Rapid', 'Juaqimsiziba707', 1984, 'Caulfield', 1990, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,Nf3,d5,e3,c5,a3,Bxc3,Bxc3,Ne4,cxd5,Nxc3,bxc3,cxd4,dxe6,Bxe6,cxd4,Nd7,Bd3,Qa5+,Qd2,Qd5,O-O,Bg4,Be2,Nf6,Rfc1,Ne4,Qd1,Rac8,Ne5,Nc3,Bf3', 'Bxf3,Qxf3,Qxf3,Nxf3,Ne2+', 'https://lichess.org/training/sYdaD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sydW7', 'Classical', 'pakupek', 1994, 'choquem', 1963, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Qxd4,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,Be7,O-O-O,h6,Bh4,O-O,Rhe1,Nh7,e5,Bxh4,Nxh4,dxe5,Rxe5,Qxd4,Rxd4,Rad8,Nd5,f6,Ne7+,Kf7,Nxc6,Rxd4', 'Re7+,Kg8,Nxd4', 'https://lichess.org/training/sydW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SyfHR', 'Blitz', 'jmcapoi', 2304, 'PChavezUch', 2066, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Qe2,b5,Bb3,Bc5,c3,d6,h3,Bb6,O-O,Bb7,Rd1,O-O,d4,exd4,cxd4,Re8,e5,Qe7,Bf4,dxe5,dxe5,Nd7,Re1,Nd4,Nxd4,Bxd4,e6,fxe6,Qg4,Nc5,Bg5,Bf6,Bxf6,Qxf6,Nc3,Nxb3,axb3,Rad8,Rad1,Rxd1,Rxd1,b4,Na4,Bd5,Qxb4,Rf8,Rd2,Qg5,g3,Bxb3,Nc5,Bd5,Re2,Qc1+,Re1,Qc2,Qd4,Rf3,Nxe6,Rxg3+,Kh2,Rg2+,Kh1,Rxf2+,Qxd5', 'Rh2+,Kg1,Qf2#', 'https://lichess.org/training/SyfHR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('syG5W', 'Rapid', 'daskas9', 1836, 'championworld', 1854, 'e4,d5,exd5,Qxd5,d4,Nf6,Nf3,Bg4,Be2,c6,Nc3,Qa5,O-O,Nbd7,h3,Bh5,Bd2,e6,Ne4,Qc7,Nxf6+,Nxf6,Ne5,Bxe2,Qxe2,Bd6,Bg5,Nd5,c4,Nf6,c5,Be7,Rad1,Nd5,Bxe7,Qxe7,f4,O-O-O,Nc4,Kc7,Nd6,Qf6,Qd2,Ne7,Qa5+,Kb8,Rf3,Nc8,Ra3,a6,Rb3,Nxd6,cxd6,Rxd6,Qxa6,Qe7,Qa4,Rhd8,Ra3,Kc7,Qa7,Qf6,Rb3,Rb8,g3,Qf5,Kg2', 'Qc2+,Kf3,Qxd1+', 'https://lichess.org/training/syG5W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sYgAX', 'Classical', 'Omega76', 1797, 'sycomore', 1771, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,a3,cxd4,cxd4,f6,Bb5,g6,exf6,Nxf6,Bg5,Bg7,Nc3,O-O,O-O,Rc8,Ne5,Nxe5,dxe5,Rxc3,Bxd7,Qxd7,bxc3,Ne4,Bf4,Rxf4,c4,Bxe5,cxd5,Bxa1,Qxa1,Rf8,Qe5,exd5,f3,Nf6,Rc1,Qe8,Qc7,Rf7,Qc3,Qd8,Qe5,Qe8,Qd4,b6,h4,Qd8,Rc6,Nh5,Qg4,Nf4', 'Rc8,Qxc8,Qxc8+', 'https://lichess.org/training/sYgAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SYHqW', 'Rapid', 'gunsti', 1786, 'HaDi-naz', 1764, 'c4,Nf6,Nc3,e5,e4,Nc6,d3,h6,Nf3,Bc5,Be2,d6,Nd5,O-O,Bd2,a6,a3,Nxd5,cxd5,Ne7,O-O,Ng6,Qc1,Kh7,b4,Ba7,h3,f5,exf5,Bxf5,Nh2,e4,dxe4,Bxe4,Bh5,Bxd5,Ng4,Nh4,Qc2+,Kg8,Ne3,Bxe3,fxe3,Bxg2,Rxf8+,Qxf8', 'Qc4+,Kh8,Qxh4', 'https://lichess.org/training/SYHqW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SyiRR', 'Blitz', 'proyectomanhattan', 2143, 'Sokolnik', 2223, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Bb4,Bg5,d6,Bc4,Be6,Bd5,Bxd5,exd5,Bxc3+,bxc3,Ne7,Bxf6,gxf6,O-O,b5,a4,Rg8,axb5,axb5,Qf3,f5,Qe2,Rb8,Rfd1,Ng6,g3,Qb6,Na5,Nf4,Qf3,Rg4,Nc6,Rc8,Kh1,e4,Qxf4,Rxf4,gxf4,Qxf2,Rg1,Qf3+,Rg2,Qxc3', 'Rg8+,Kd7,Ra7+,Rc7,Rd8#', 'https://lichess.org/training/SyiRR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SyL6y', 'Blitz', 'bmaluleka', 1826, 'FriedLiverForDinner', 1786, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qd3,Nb4,Qd1,b5,Bg5,h6,Bh4,Bb7,f3,g5,Bf2,Rd8,a3,Nc6,Bd3,O-O,Qd2,d5,exd5,Nxd5,O-O-O,Nxc3,Qxc3,Kg7,Bc5,Qe6,Bxf8+,Kxf8,h4,Qa2,hxg5,Nd4,gxh6,Ne2+,Kd2,Nxc3,bxc3,Qe6,h7,Kg7,Rde1,Qg6', 'h8=Q+,Rxh8,Bxg6,Rxh1,Rxh1', 'https://lichess.org/training/SyL6y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SyL93', 'Classical', 'chanchal63', 1787, 'Teno106', 1697, 'd4,Nf6,Bf4,a6,Nf3,c5,e3,e6,Nbd2,d5,c3,Bd6,Ne5,b5,Be2,c4,O-O,Nbd7,Ndf3,O-O,Bg5,Qc7,Bf4,Nxe5', 'dxe5,Ne4,exd6', 'https://lichess.org/training/SyL93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sYLbm', 'Blitz', 'zasfet', 1742, 'MORFIUSSS', 1776, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,f3,Qc7,g3,b5,f4,b4,Na4,d6,Bg2,Nxd4,Qxd4,Rb8,Bd2,Bd7,b3,Nf6,e5,dxe5,fxe5,Nh5,g4,Bxa4,bxa4,Bc5,Qe4,f5,gxf5,O-O,fxe6,Bf2+,Kd1,Rbd8,Kc1,Rxd2,Kxd2,Qc3+,Kc1,Qxa1+,Kd2,Qc3+,Kc1,Be3+,Kb1,Rc8,e7,Bd4', 'Qd5+,Kh8,Qd8+,Rxd8,exd8=Q#', 'https://lichess.org/training/sYLbm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sylgb', 'Rapid', 'Rapukie', 2111, 'CharlyXYZ5', 2103, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Be2,Nxd5,d4,Nc6,a3,e6,Nf3,Be7,O-O,O-O,c4,Nf6,Nc3,Rc8,b4,a6,h3,h6,Be3,Nb8,Qb3,Bc6,Ne5,Nfd7,Nxc6,bxc6,f4,Nf6,Bf3,Ne8,Rfd1,Nd6,Bf2,Bf6,Ra2,Nf5,Ne2,Qe7,g3,Rcd8,Rad2,Rd7,d5,cxd5,cxd5,exd5,Rxd5,Rxd5,Rxd5,Nd6,Qd3,Re8,Bc5,Nd7,Bxd6,cxd6,Rxd6,Nf8,Qxa6,Qe3+,Kg2,Ne6,Qd3,Qa7,b5,Bb2,Ra6,Qe7,Qb3,Bf6,Rc6,Nd8,Rc2,Ne6,Qc4,Rd8,a4,Nd4,Nxd4,Rxd4,Qc8+,Kh7,b6,Qe3,Qf5+,Kg8,Rc8+,Bd8,h4', 'Rd2+,Kh3,Qxf3', 'https://lichess.org/training/Sylgb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sym3U', 'Rapid', 'gambito365', 1877, 'arsenalfanrichi', 1850, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Bc4,Bb4,Nf3,Nc6,O-O,Nf6,Qe2,O-O,Bg5,h6,Bh4,Be7,Nb5,d5,Rfd1,a6,exd5,Nxd5,Bxe7,Qxe7,Bxd5,exd5,Qxe7,Nxe7,Nc7,Rb8,Nxd5,Nxd5,Rxd5,Be6,Rc5,Rfc8,Rxc8+,Rxc8,a3,Rc2,b4,b5,Nd4,Rc3,Nxe6,fxe6,Kf1,Kf7,Ke2,Kf6,a4,Rc4,axb5,axb5,Rb1,e5,Rb3,Kf5,Kd2,e4,Ke3,Ke5,h3,g5,f3,exf3,Kxf3,Re4,Re3,Rxe3+,Kxe3,h5,g3,g4,hxg4', 'hxg4,Kd3,Kd5', 'https://lichess.org/training/Sym3U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sYNvs', 'Rapid', 'CHECKMATEYMATEY', 1779, 'dhonibbe189', 1618, 'e4,e5,Nc3,c6,a4,d5,exd5,cxd5,Bb5+,Nc6,Qh5,Qf6,Nxd5,Qd6,Nc3,Nf6,Qe2,Bg4,f3,Bh5,Ne4,Nxe4,Qxe4,O-O-O,Bxc6,bxc6,Qf5+,Kc7,Qxh5,f5,Qf7+,Be7,Qxf5,g6,Qg4,h5,Qc4,Bg5,d3,Bxc1,Rxc1,e4,fxe4,Rhf8,Nf3,Qf4,Rd1,Qe3+,Kf1,g5,Re1,Qd2,Re2,Qd1+,Re1,Rxf3+,gxf3,Qxf3+,Kg1,Rf8,Qd4', 'Qg4#', 'https://lichess.org/training/sYNvs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SYnY5', 'Classical', 'Gurujit', 1867, 'thenumberofthebeast1', 1877, 'e4,e5,d4,Nc6,Nf3,exd4,Bc4,Nf6,O-O,d6,Nxd4,Nxd4,Qxd4,g6,Nc3,Bg7,Bg5,c6,e5,dxe5,Qxe5+,Qe7,Rfe1,Qxe5,Rxe5+,Kf8,Rae1,Bd7,Re7,Be6,Bxe6,Kxe7,Bc8+,Kd6,Bxb7,Rae8,Rd1+,Kc7,Ba6,Re6,g3,Rhe8,Bf4+,Kb6,Bf1,h6,a4,g5,Be3+,Kb7,a5,Ng4,a6+,Kb8,Bxa7+,Kxa7,Rd7+,Ka8,Na4,R6e7', 'Nb6+,Kb8,a7#', 'https://lichess.org/training/SYnY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('syoeL', 'Rapid', 'safak0731', 1813, 'wandankf', 1866, 'e4,g6,Nf3,Bg7,Nc3,e6,d4,Ne7,e5,O-O,Bg5,h6,Bh4,d6,Bc4,dxe5,dxe5,a6', 'Qxd8,Rxd8,Bxe7', 'https://lichess.org/training/syoeL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SYOfD', 'Rapid', 'AllWrappedUp', 1609, 'kraka', 1612, 'd4,e6,Bf4,d5,e3,Ne7,Nc3,Ng6,Nb5,Bd6,Nxd6+,cxd6,Bg3,O-O,Bd3,f5,Nf3,h6,Qe2,Nc6,a3,a6,h4,f4,Bh2,fxe3,Qxe3,Nxh4,Nxh4,Qxh4,O-O-O,Qxd4', 'Bh7+,Kxh7,Rxd4', 'https://lichess.org/training/SYOfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SYPat', 'Rapid', 'Aldmuo', 2241, 'Iosh', 1965, 'c4,e6,Nc3,Nf6,e4,d6,d4,Nbd7,Nf3,c6,Bd3,Be7,O-O,O-O,e5,dxe5,dxe5,Ng4,Re1,Bc5,Ne4,Bb4,Bd2,Bxd2,Nexd2,Ndxe5,Nxe5,Nxe5,Bxh7+,Kxh7,Rxe5,Rh8,Rh5+,Kg8,Rxh8+,Kxh8,Qh5+,Kg8,Nf3,c5,Ng5,Qf6,Rd1,g6,Rd8+,Qxd8', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/SYPat');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SYpuo', 'Classical', 'knyagar72', 1600, 'StefanAlex', 1622, 'd4,e6,e4,c5,c4,cxd4,Qxd4,Nc6,Qd1,a6,Nc3,b5,Nf3,Nf6,cxb5,axb5,Bxb5,Ba6,O-O,Bxb5,Nxb5,Qb6,Nd6+,Bxd6,Qxd6,Nxe4,Qf4,f5,Ng5,Nd4,Be3', 'Ne2+,Kh1,Nxf4,Bxb6,Nxg5', 'https://lichess.org/training/SYpuo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SYqWA', 'Rapid', 'Alexazsvchess', 1865, 'Smith_Jnr', 1852, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,a6,Be3,Nf6,f3,e5,Nb3,Bd7,Qd2,Be7,O-O-O,O-O,g4,Ne8,h4,a5,Bb5,Nb4,Bxd7,Qxd7,a3,a4,Nc5,Qc7,axb4,a3,Nb3,a2,Qd5,a1=Q+,Nxa1,Rxa1+,Kd2,Nf6,Qb3,Raa8,g5,Nd7,Nd5,Qd8,Nxe7+,Qxe7,Ke2,Ra6,Qd5,Rc6,Qb3,Nb6,Bxb6,Rxb6,Rhg1,Kh8,h5,f6,g6,h6,c3,f5,Rgf1,fxe4,fxe4,Rf4,Rxf4,exf4,Kd3,Rc6,Rf1,Qf8,Qe6,Rc7,Rxf4,Qd8,Rf7,Rc8,Rd7,Qf8,Rf7,Qd8,Qd5,b6,Qd4,Qg8,Qxd6,Rd8,Rd7,Rc8,Qd5,Qf8,Qe5,Qf3+,Kd4', 'Qd1+,Ke3,Qxd7', 'https://lichess.org/training/SYqWA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sYRNd', 'Rapid', 'Gianuzio', 1865, 'IL4Q', 1947, 'c4,Nf6,d4,e6,Nc3,Bb4,Bd2,c5,Nf3,d5,dxc5,dxc4,e3,Nc6,Bxc4,O-O,O-O,Bxc5,a3,a6,Na4,Be7,Be2,b5,Nc3,Bb7,Na2,Qb6,Bc3,Rfd8,Qc2,Rac8,Rad1,a5,Rxd8+,Rxd8,Rd1,Nd5,Bd4,Nxd4,Nxd4,Rc8,Qb3,b4,axb4,axb4,Bf3,Ba6,Bxd5,exd5,Qxd5,Bc4,Qd7,Rc7,Qe8+,Bf8,Nc1,Qg6,b3,Bd5,f3,Re7,Qd8,Bb7,Nd3,Rxe3,Kf2', 'Rxd3,Rxd3,Qxd3', 'https://lichess.org/training/sYRNd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('systE', 'Blitz', 'Chesssknock', 2507, 'GM cemilchess', 2631, 'd4,e5,dxe5,Nc6,Nf3,d6,e4,Bg4,Bb5,dxe5,O-O,Bd6,h3,Bd7,Nbd2,Nf6,Nc4,Qe7,Nxd6+,cxd6,Re1,h6,c3,a6,Bf1,Be6,a4,Rd8,Qc2,O-O,Be3,d5,exd5,Bxd5,Nd2,Rfe8,Nc4,Qe6,Qe2,Be4,Red1,Bg6,Bb6,Rxd1,Rxd1,Nd5,Bc5,e4,Ne3,Nf4,Qc4,Nd3,Qxe6,Rxe6,Ba3,Nce5,b4,f5,b5,a5,Nd5,f4,c4,Bh5,Rd2,Bf7,c5,Rg6,Nc3', 'Nf3+,Kh1,Nxd2', 'https://lichess.org/training/systE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('syWBB', 'Rapid', 'karasman', 1684, 'Glay', 1800, 'd4,d6,Nf3,c6,e4,g6,Bc4,Bg7,O-O,Nf6,Ng5,O-O,Bxf7+,Rxf7,Nxf7,Kxf7,Qd3,Be6,Bg5,Nbd7,e5,dxe5,Bxf6,exf6,dxe5,Nxe5,Qe3,a6,Nc3,b5,Rad1,Qc7,Ne4,Rd8,Qf3,Rxd1,Rxd1,Bxa2,Ng5+,Kg8,Qh3,h6,Rd7,Qc8', 'Rxg7+,Kxg7,Qxc8', 'https://lichess.org/training/syWBB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sYXAf', 'Rapid', 'varav', 1775, 'pedrozeff', 1706, 'a4,e5,b3,f5,Bb2,Nc6,e3,a6,Ne2,Bc5,Ng3,d6,Be2,Nf6,Nh5,Be6,Nxg7+,Kf7,Nxe6,Kxe6,Na3,Rg8,g3,f4,exf4,exf4,Bc4+,d5,Qe2+,Kd6,Bd3', 'Re8,O-O-O,Rxe2', 'https://lichess.org/training/sYXAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sYxOJ', 'Rapid', 'davidhenrique1001', 1738, 'josefladores', 1749, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nbd2,Qe7,e4,Ngxe5,Be2,O-O,O-O,d6,Nxe5,Nxe5,f3,Bc5+,Kh1,Ng6,Bg3,Qg5,a3,Nf4,b4,Bd4,Rc1,Be5,c5,Qh5,Bxf4', 'Bxf4,g3,Bxg3', 'https://lichess.org/training/sYxOJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sz1ju', 'Classical', 'BongTeggy', 1948, 'celtec', 1837, 'e4,c5,Nc3,Nc6,Bb5,d6,Bxc6+,bxc6,f4,e6,Nf3,g6,d4,c4,O-O,Bg7,e5,d5,Na4,Ne7,Nc5,O-O,Qe1,a5,b3,cxb3,cxb3,Nf5,Ba3,Re8,g4,Ne7,Rc1,f6,g5,fxe5,Nxe5,Nf5,Bb2,Qc7,Qc3,Ba6,Nxa6,Rxa6,Qc5,Bf8,Qc3,Bb4,Qh3,Bd2,Rc5,Be3+,Kg2,Bxd4,Bxd4,Nxd4,Rfc1,Rf8,Nxc6,Qxf4', 'Ne7+,Kg7,Qh6+,Kh8,Nxg6+', 'https://lichess.org/training/sz1ju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sz2a3', 'Rapid', 'dungeon_master19', 1697, 'sosick', 1697, 'e4,e5,Nf3,Nf6,d3,Bc5,Bg5,Be7,Nxe5,Nc6,Nxc6,dxc6,Qf3,O-O,Qg3,Bd6,Qh4,Be5,f4,Bxb2,c3,Bxa1,Qg3,Bg4,Bxf6,Qxf6,Qxg4,Bxc3+,Nxc3,Qxc3+,Kf2,Qc2+,Kf3,Qxa2,h4,Qb3,h5,Qd1+,Be2,Qxh1,Kf2,Qa1,e5,Qd4+,Kf3,a5,h6,g6,Qg5,Qd8,Qg4,Qe7,d4,Rfe8,f5,a4,Bc4,a3,fxg6,hxg6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/sz2a3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZ6HJ', 'Rapid', 'muhammed98', 1787, 'Arie_5000', 1840, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d4,exd4,e5,Ng4,Bxf7+,Kxf7,Ng5+,Kg8,Qxg4,Nxe5,Qf5,d6,Qe4,h6,f4,hxg5,fxe5,d3+,Kh1,dxc2,Qxc2,g4,Nc3,Qh4', 'Qb3+,d5,Qxd5+', 'https://lichess.org/training/SZ6HJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Sz6VL', 'Rapid', 'faluba1', 1658, 'zembelek1', 2000, 'e4,c5,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qc3,Ne4,Qe3,Qa5+,c3,Qxe5,Nf3,Qe6,Na3,d5,Nb5,Qd7,Be2,a6,Na3,e6,b4,Be7,O-O,O-O,Rd1,Qc7,c4,Bf6,Rb1,Rd8,b5,a5,bxc6,bxc6,cxd5,cxd5,Nb5,Qd7,Ba3,Ba6,Rdc1,Rdc8,Rxc8+,Rxc8,h3,h6,Bd3,Rb8,Qf4,Rxb5,Bxb5,Bxb5,Qb8+,Kh7,Rxb5,d4,Rb1,Nc3,Rb2,d3,Rd2,Ne2+,Kh1,Bc3,Rd1,Qd5,Qb1,Nf4,Qc1,e5,Qxc3,Nxh3,Kh2,Nxf2,Rf1,Ng4+,Kh1,e4,Nd2', 'Qh5+,Kg1,Qh2#', 'https://lichess.org/training/Sz6VL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZAyY', 'Classical', 'oxioxi', 1715, 'Dheeraj2086', 1804, 'c4,e6,Nc3,c6,d4,d5,e3,Nf6,a3,Ne4,Qb3,Nxf2,Kxf2,Qf6+,Nf3,Be7,h4,O-O,Bd3,Bd6,e4,dxc4,Qxc4,b5,Qb3,Qd8,e5,Bc7,Ng5,Qxd4+,Ke2,Qxe5+,Kd1,Rd8,Kc2,Qg3,Rf1', 'Qxd3#', 'https://lichess.org/training/SZAyY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SzC0q', 'Blitz', 'Sergeyvyborg', 1625, 'andykanol', 1658, 'e4,e5,Qh5,Qf6,Nc3,Nc6,Nd5,Qg6,Qxg6,hxg6,Nxc7+,Kd8,Nxa8,Bd6,Nb6,axb6,a3,Nf6,Bd3,Ke7,Nf3,Bc7,O-O,d5,exd5,Nxd5,c4,Nf4,Bc2,e4,Bxe4,Ne5,Nxe5,Bxe5,d3', 'Ne2+,Kh1,Rxh2#', 'https://lichess.org/training/SzC0q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZcIE', 'Rapid', 'rogeriorster', 1673, 'Hephistos', 1613, 'e4,e6,Bc4,d5,exd5,exd5,Qe2+,Be7,Bb3,Nf6,Nf3,O-O,O-O,Bg4,d3,h6,c3,c6,Be3,Re8,Qd1,Nbd7,Nbd2,Bd6,h3,Bh5,Qc2,Ne5,Nxe5,Bxe5,Rae1,Qc7,f4,Bxf4,Bxf4,Qxf4,Rxf4,Rxe1+,Kh2,Rae8,Rf2,R1e2,Rxe2,Rxe2,c4,Bf3,cxd5', 'Rxg2+,Kh1,Rxd2+', 'https://lichess.org/training/SZcIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('szCUX', 'Rapid', 'izzulmuslih', 1926, 'rahulchess23', 1755, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,d3,Be7,O-O,Nxc4,dxc4,Nxd5,Nxf7,Kxf7,cxd5,Rf8,c4,Kg8,Nc3,c6,Re1,Bc5,Be3,Bd6,c5,Be7,d6,Bf6,Ne4,Be6,Qe2,g5,Rad1,h5,Qxh5,Kg7,Nxg5,Bxg5,Bxg5,Rh8,Bxd8,Rxh5,Be7,Bd7,Rd3,Kf7,Rf3+,Ke6,Rf6+,Kd5,b4,a5,a3,axb4,axb4,b6,cxb6,Rb8,Rd1+,Kc4,h3,Rxb6,Bd8,Rb7,Rf7,Rh8,Bc7,Be6,Re7,Bd5,Rxe5,Rg8,g4,Rh8,Kh2,Rf8,Kg3,Ra7,Re7,Ra3+,Kh4,Rh8+,Kg5,Rg8+,Kf6', 'Rf3+,Ke5,Rg5#', 'https://lichess.org/training/szCUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('szd8a', 'Rapid', 'AmurskiyTiger', 2188, 'ziliboba', 1763, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nf6,e5,d5,Bb3,Ne4,Bxd5,c2,Qd3,cxb1=Q,Rxb1,Nc5', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/szd8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SzdJ3', 'Rapid', 'Andrey-03', 1901, 'Chesster_2034', 1948, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qa4,Nf6,Be3,e6,h3,a6,Nd2,d5,c3,dxe4,Nxe4,Nxe4,Qxe4,Be7,Bd3,Bd7,Rd1,Bg5,Bxg5,Qxg5,Qg4,Qxg4,hxg4,h6,Be4,Ke7,Ne2,Rab8,f3,Ne5,Kf2,Bc6,Bxc6,Nxc6,Rd2,Rbd8,Rhd1,Rxd2,Rxd2,Ne5,b3,Rd8,Ke3,Rxd2,Kxd2,Kd6,Ke3,f5,gxf5,exf5,Kf4,g6,Nd4,Nd3+,Ke3,Nc5,a3,Kd5,c4+,Kd6,b4,Ne6,Nxe6,Kxe6,Kd4,Kd6,g3,b6,a4,Ke6,a5,bxa5,bxa5,Kd6,c5+,Kc6,Kc4,g5,Kd4,h5,Ke5,Kxc5', 'Kxf5,h4,gxh4,gxh4,Kg4', 'https://lichess.org/training/SzdJ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZeuA', 'Blitz', 'armanalipour852', 2226, 'i_love_dr_sarraf', 2051, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Bd6,c4,Bb4+,Kf2,Qd6,a3,Bc5,dxc5,Qxd1,Rg1,Bg4,Be2,Qd7,Bxf4,Bxf3,Bxf3,Qd4+,Kg3,O-O,Bxb7,Nd7,Rad1,Qxc5,Bxa8,Rxa8,h3,Nf6,Kh2,Qxc4,Be5,Re8,Rge1,Rxe5', 'Rd8+,Ne8,Rxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/SZeuA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SzFdf', 'Classical', 'sakeerhussain', 1816, 'Boraganli', 1735, 'e4,e5,Nf3,d6,Nc3,Nf6,h3,b6,Bc4,h6,d3,Bb7,Qe2,Nbd7,Nd1,a6,a3,b5,Ba2,Nb8,Ne3,c6,O-O,Nbd7,Rd1,Nh5,Nf1,Nf4,Bxf4,exf4,e5,dxe5,Nxe5,Qe7,Re1,Nxe5,Qxe5,Qxe5,Rxe5+,Be7', 'Rae1,O-O-O,Rxe7', 'https://lichess.org/training/SzFdf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sZfGn', 'Rapid', 'fervasco', 1814, 'msc82', 1898, 'c4,e5,Nc3,c6,g3,d5,cxd5,cxd5,d4,f6,Bg2,Be6,Nxd5,Bxd5,e4,Qa5+', 'Bd2,Bb4,exd5', 'https://lichess.org/training/sZfGn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZfIA', 'Rapid', 'Goga413', 1691, 'anikulapo8', 1633, 'e4,e5,Nf3,d6,Bc4,Bg4,d4,Nc6,Bb5,a6,Ba4,b5,d5,Nd4,Bb3,Nf6,Nc3,Nxb3,axb3,Be7,O-O,O-O,h3,Bh5,g4,Bg6,Nh4,Bxe4,Nxe4,Nxe4,Nf5,Bg5,Qd3,Nc5,Qf3,Bxc1,Rfxc1,g6,Nh6+,Kh8,Nxf7+,Rxf7,Qxf7,Qh4,Kg2,Ne4,Rf1', 'Ng5,Qf6+,Kg8,f4,Qxh3+', 'https://lichess.org/training/SZfIA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sZgOL', 'Rapid', 'abdallhshneiwer', 1635, 'matago90', 1686, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,d4,cxd4,Nxd4,e5,Nb3,Ngf6,Nc3,Be7,Be3,O-O,Qe2,a6,O-O-O,b5,h4,Rc8,h5,h6,g4,Rxc3,bxc3,Nxe4,Qd3,Ndc5,Nxc5,Nxc5,Bxc5,dxc5,Qf5,Qa5,Qxe5,Bf6,Qxc5,Qxa2,Kd2,Rd8+,Ke2', 'Qxc2+,Kf3,Rxd1,Rxd1,Qxd1+', 'https://lichess.org/training/sZgOL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sZGXN', 'Rapid', 'Muhammadusman', 1825, 'RosenIM', 1834, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,g3,Bd6,Bg2,c6,Nf3,O-O,O-O,h6,Re1,Bf5,Be3,Na6,Nh4,Bh7,Qd2,Nc7,Na4,Ne6,Nc5,Bxc5,dxc5,Ng4,b4,Re8,h3,Nxe3,Rxe3,Qd7,Rae1,Ng5,Rxe8+,Rxe8,c3,Rxe1+,Qxe1,Be4,Kh2,Bxg2,Kxg2,Qxh3+,Kg1,Qxh4', 'Qe8+,Kh7,gxh4', 'https://lichess.org/training/sZGXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SzhgC', 'Blitz', 'ege_yamakoglu', 1931, 'teutates74', 1939, 'e4,c5,Nf3,d6,c3,e6,d4,cxd4,cxd4,Be7,Nc3,Nf6,Bd3,a6,Bg5,h6,Bxf6,Bxf6,Qe2,O-O,O-O-O,Qc7,e5,dxe5,dxe5,Be7,h4,b5,h5,b4,Qe4,f5,exf6,Rxf6,Qh7+,Kf8,Bg6,Rxg6,hxg6,Bf6,Rxh6,Qf4+,Rd2,bxc3', 'Qh8+,Ke7,Qd8#', 'https://lichess.org/training/SzhgC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('szhHu', 'Blitz', 'slaatnergensop', 2351, 'Serikov_Alex', 2336, 'e4,e6,b3,d5,Bb2,dxe4,Nc3,f5,Qe2,Nf6,O-O-O,Be7,h3,O-O,g4,Nc6,f3,Nd4,Qg2,exf3,Nxf3,Nxf3,Qxf3,fxg4,Qg2,e5,Bc4+,Kh8,hxg4,Bxg4,Rdg1,c6,Ne4,Nxe4,Qxg4,Ng5,Qh5,h6,Bxe5,Bf6,Rxg5,Bxg5', 'Qxh6+,Bxh6,Rxh6#', 'https://lichess.org/training/szhHu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Szi3M', 'Rapid', 'Vadymm2007', 1849, 'pablito48', 1776, 'c4,e6,Nc3,a6,d3,c5,Nf3,h6,g3,d5,cxd5,exd5,e3,Bg4,Be2,Bh3,Qa4+,Nc6,Ne5,Ne7,Nxc6,Nxc6,Bf3,Be6,Bd2,Be7,Rd1,O-O,Qc2,Bf5,Nxd5,Bd6,e4,Nd4,Qc1,Nxf3+,Kf1,Bg4,Be3,Bh3+,Ke2,Bg2,a3,Bxh1,Rxh1,Ne5,Bxh6,gxh6,Qxh6,Ng6,h4,Be5,h5,Bg7,Qe3,Ne5,h6,Ng4,Qf4,Nxh6,Rxh6,Re8,Rh5,Bxb2,Qg4+,Bg7,Rg5,Kf8,Rxg7,Qxd5,Rg8+,Ke7,exd5,Rxg8,Qe4+,Kd6,Qf4+,Kxd5,Qxf7+,Kd4,Qxb7,Kc3,Qc6,Rge8+,Kd1,Rad8,Qxc5+,Kb2,Qb4+,Ka2,Kc1,Rc8+,Kd2,Rb8,Qc4+,Rb3,g4,Rb8,g5,Ka1,Qd4+,Rb2+,Ke3,Re8+,Kf3,Rf8+,Kg3,Kb1,g6,Rb5,Kg4,Rg8,g7,Rb7,Kf3,Rgxg7,Qe4', 'Rbf7+,Ke3,Re7,Kd4,Rxe4+', 'https://lichess.org/training/Szi3M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sZI3W', 'Blitz', 'Deivechess', 1986, 'drjuliocezar', 2032, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,O-O,Rc1,c6,Nf3,h6,Bh4,dxc4,Bxc4,Nd5,Bg3,Bd6,e4,Bxg3,hxg3,Nxc3,bxc3,Qa5,O-O,b5,Bd3,Nd7,Qe2,a6,e5,g6,Nh2,h5,g4,h4,g5,Kg7,Ng4,Rh8,Nh6,Bb7,f4,c5,Rf2,cxd4,cxd4,Qb6,Be4,Rac8,Rd1,Rc4,Bxb7,Qxb7,d5,exd5,f5,Rxh6,gxh6+,Kxh6,Qe3+,g5,e6,Re4,Qh3,fxe6,fxe6,Nc5,Rf6+,Kh5,Qf3+,Rg4,Rd4,Ne4,Rf7,Qb6', 'Rh7+,Kg6,Qf7#', 'https://lichess.org/training/sZI3W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sZIEh', 'Rapid', 'eruantal', 1800, 'abcd1611', 1822, 'e4,Nc6,d4,d5,e5,Bf5,f4,Nb4,Na3,e6,c3,Nc6,Nc2,Qh4+,g3,Qd8,Ne3,Be4,Bg2,Bxg2,Nxg2,Nf6,exf6,gxf6,Nf3,Qd7,Be3,O-O-O,Qd2,Na5,O-O-O,Qa4,Kb1,Qb5,Qc2,Nc4,Bc1', 'Na3+,Ka1,Nxc2+', 'https://lichess.org/training/sZIEh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sZii3', 'Classical', 'OeilDeFaucon', 1883, 'HH-kamarasov', 1675, 'd4,c5,d5,d6,c4,e6,Nc3,Nf6,e4,Be7,Nf3,h6,Bd3,exd5,exd5,O-O,O-O,Bg4,Re1,Nbd7,Bf4,Re8,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Ne4,Nf6,Kg2,Nxe4,Rxe4,Bf6,Rxe8+,Qxe8,Bxd6,Bxb2,Rb1,Bd4,Rxb7,Qd8,Bg3,Qc8,Re7,Bh3+,Kh2,Qg4,Be2', 'Bxf2,Qg1,Bxg1+', 'https://lichess.org/training/sZii3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZJAK', 'Classical', 'isidrocamp', 1838, 'cobraabro', 1931, 'd4,e6,c4,f5,Nf3,Nf6,e3,d6,Bd3,Be7,Nc3,O-O,O-O,Qe8,Nb5,Na6,a3,c6,Nc3,Nc7,b4,Bd8,Bb2,e5,dxe5,dxe5,Be2,Nd7,Qc2,g5,Rad1,g4,Ne1,Ne6,Nd3,Ng5,Rfe1,Qh5,f4,gxf3,gxf3,f4,Rf1,Rf6,Kh1,Rh6,Rf2,Qh4,Bf1,fxe3,Rg2,Kf8,Nxe5,Nxe5,Rxd8+,Ke7,Rg8,Nexf3,Qe2,Bf5,Rxa8,Bd3,Qxe3+,Be4,Nxe4', 'Qxh2+,Rxh2,Rxh2#', 'https://lichess.org/training/SZJAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZKek', 'Rapid', 'sarfrawi', 1803, 'cnrajesh', 1811, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,d6,h3,Nf6,d3,Be7,Be3,a6,Bb3,Na5,Bc2,Bd7,Nbd2,Be6,b4,Nc6,O-O,O-O,a3,Na7,d4,exd4,cxd4,Nb5,a4,Na7,Re1,Bd7,Nf1,b5,a5,Nc6,Ng3,Nxb4,Bb3,Nc6,Qc2,Kh8,Nf5,Bxf5,exf5,Nb4,Qd2,d5,Ne5,Qd6,Bf4,Qd8,Re3,Nh5,Rf3,Nxf4,Qxf4,Bg5,Qg4,Qd6,h4,Bf6,Qh5,Rae8,Nxf7+,Rxf7,Qxf7,Re7,Qg6,Nc6,Re3,Rxe3,fxe3,Qe7,Re1,Nb4,Qg3', 'Bxh4,f6,Qxf6', 'https://lichess.org/training/SZKek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('szKir', 'Blitz', 'CM ventdelest', 2344, 'Kuching', 2355, 'e4,c5,Nf3,e6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,Bb5+,Nd7,O-O,a6,Bd3,Qc7,Re1,dxe5,Nxe5,Bd6,Qh5,Bxe5,dxe5,Nc5,Bf1,Bd7,Nc3,Nxc3,bxc3,O-O-O,Be3,Kb8,Qxf7,Na4,Rab1,Bc6,Qxc7+,Kxc7,Bd4,b5,f4,h6,f5,exf5,e6,Rhg8,Bd3,g6,Bc2,Nb6,a4,Rge8,a5,Nc4,Bb3,Nxa5,e7,Rd7,Bf6,Nxb3,Rxb3,a5,Rb2,a4,Rb4,Kb6,c4,Kc5,Reb1,bxc4,R4b2,Rdxe7,Bxe7+,Rxe7,Rc1,Re4,Kf2,Bd5,g3,Kd4,Rd2+,Ke5,Ra2,Bc6,Rac2,Bb5,Rc3,Kd5,Rd1+,Kc5,Rd8,Kb4,Rc1,c3,Rb8,Re5,Rb1+,Ka5,Ra8+,Kb6,Rb8+,Kc6,Rc8+,Kb7,Rxc3,Ka6,Rb2,Ka5,Ra3,Rc5,Ke3,Bc6,Kd4,Rd5+,Kc4,Re5,Kd4,Re4+,Kc5,Be8,Rb8,Re2', 'Ra8#', 'https://lichess.org/training/szKir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Szl6j', 'Rapid', 'Richtofein', 1759, 'Virolillo', 1765, 'c4,e5,Nc3,Nc6,Nf3,d6,e3,Bf5,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bd3', 'c5,Qf4,Bxd3', 'https://lichess.org/training/Szl6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('szlt9', 'Bullet', 'Anandukrishna9744', 1512, 'Dinakaranvijayaniv', 1568, 'e4,e5,Nf3,Nf6,d3,Bc5,Bg5,d6,h3,O-O,a3,Be6,Nc3,Nbd7,Be2,c6,h4,Qb6,Qc1,Bxf2+,Kd1,Be3,Bxe3,c5,Bg5,Ng4,Rf1,h6,Bd2,Qc6,Ne1,b5,Bxg4,Bxg4+,Nf3,b4,axb4,cxb4,Nd5,a5,Ne3,Rfb8,Nxg4,Rc8,Ne3,Nc5,g4,Qb5,g5,Nxd3,Qb1,Nf4,gxh6', 'Qe2+,Kc1,Nd3#', 'https://lichess.org/training/szlt9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZlZN', 'Rapid', 'terminator500', 2070, 'WES2015', 2069, 'e4,e6,d3,d5,Nc3,d4,Nce2,c5,f4,Nc6,Nf3,h6,g3,Nf6,Bg2,Be7,O-O,Bd7,c3,Rc8,cxd4,cxd4,Nexd4,Nxd4,Nxd4,Bc5,Be3,Qb6,Rc1,Bxd4,Rxc8+,Bxc8,Qa4+,Bd7,Bxd4', 'Bxa4,Bxb6,axb6', 'https://lichess.org/training/SZlZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SzNoO', 'Rapid', 'Nairdaa', 1829, 'Emmanuellopez', 1760, 'd4,Nf6,Nc3,e6,a3,b6,e4,d6,Nf3,Be7,Bb5+,Nfd7,Bf4,Bb7,h4,a6,Ba4,b5,Bb3,Nf6,Qd3,Nbd7,Ba2,c5,d5,exd5,Bxd5,Nxd5,exd5,Nf6,b4,cxb4,axb4,Qc7,Ng5,Rc8,Nge4,Nxe4,Nxe4,O-O,c3,Rfe8,Kf1,f5,Nc5,Qb6,Nxb7,Qxb7,Qxf5,Bf6,Bxd6,Rxc3,Re1,Rxe1+,Kxe1,Rc1+,Ke2,Rxh1', 'Qe6+,Qf7,Qc8+,Bd8,Qxd8+,Qe8+,Qxe8#', 'https://lichess.org/training/SzNoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sZoKm', 'Classical', 'S1amak', 1691, 'Ontek', 1706, 'd4,Nf6,c4,e6,Nc3,c6,e4,d6,Bd3,a6,Nf3,b5,Bg5,Be7,O-O,h6,Be3,bxc4,Bxc4,O-O,e5,Nd5,Bc1,Qb6,Bxd5,cxd5,Ne2,Nc6,a3,a5,Rb1,a4,b3,Qb5,Nc3,Qa5,Bd2,dxe5,dxe5,Bxa3,Nxa4,Bb4,Ra1,Bxd2,Nxd2,Nxe5,Qe2,Ba6,Qxe5,Qxd2,Rfd1,Qe2,Qd4,e5,Qxd5,Rad8,Nc3', 'Rxd5,Nxe2,Rxd1+,Rxd1,Bxe2', 'https://lichess.org/training/sZoKm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SzQdx', 'Rapid', 'Fei_Lung', 1742, 'pascual_17', 1744, 'Nf3,Nf6,b3,g6,Bb2,Bg7,g3,O-O,Bg2,d6,d3,e5,Nbd2,Nc6,e3,Bg4,h3,Be6,Ng5,h6,Nxe6,fxe6,Bxc6,bxc6,Qf3,Nd5,Qg4,Qf6,Rf1,Qf5,e4,Qxg4,hxg4,Nb4,Kd1,d5,a3,Na6,Ke2,Rf7,Rac1,Raf8,a4,Bf6,Ba3,c5,c4,d4,Rh1,Kg7,Rh2,Bg5,Rd1,Nb8,Bxc5,Re8,Bxa7,Na6,b4,Nxb4,Bc5,Na2,Kf1', 'Nc3,Ra1,Bxd2', 'https://lichess.org/training/SzQdx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sZqgy', 'Rapid', 'VadRoli', 1719, 'foldesmarci2009', 2259, 'e4,c5,Bc4,e6,Nf3,a6,Nc3,b5,Be2,Qc7,d4,cxd4,Nxd4,Nf6,Bg5,Bb4,Qd3,Nxe4,Bd2,Nxd2,Qxd2,Bb7,O-O,O-O,a3,Bxc3,bxc3,Rc8,Rfd1,Qxc3,Qxc3,Rxc3,Ra2,Bd5,Raa1,Nc6,Nxc6,dxc6,Bd3,e5,Re1,f6,Re3,Re8,Bxh7+,Kxh7,Rxc3,Kg6,Rg3+,Kf7,Rd1,g6,Re1,Rd8,Rd3,Re8,Rh3,Kg7,Ree3,Bc4,Re1,Rd8,f4,exf4,Re7+,Kf8,Ra7', 'Rd1+,Kf2,Rf1#', 'https://lichess.org/training/sZqgy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZQsm', 'Classical', 'Kappuccino', 1988, 'Zalkip123', 1845, 'e4,e6,d3,Bc5,d4,Bb6,a4,Nc6,Nf3,Nge7,Bd3,Nxd4,Nxd4,Bxd4,c3,Bf6,O-O,e5,f4,O-O,fxe5,Bxe5,Nd2,d5,exd5,Nxd5,Qh5,f5,Nf3,Nf6,Qh4,Bxh2+,Kxh2,Qxd3,Bg5,Ng4+,Kg1,Bd7,Rad1,Qxf1+,Kxf1,Bc6,Nd4,Rae8,Nxc6,bxc6,Rd7,h6,Bd2,Re4,Re7', 'Ne3+,Bxe3,Rxh4', 'https://lichess.org/training/SZQsm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZsMd', 'Rapid', 'aliringo777', 2129, 'sweatkillerashish', 1693, 'd4,d6,e4,c6,f4,d5,e5,e6,Nf3,Bb4+,Bd2,Qa5,Bxb4,Qxb4+,Qd2,Qxb2,Qc3,Qc1+,Kf2,Qxf4,Nd2,Nh6,h3,O-O', 'g3,Qf5,Bd3', 'https://lichess.org/training/SZsMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZSRn', 'Classical', 'derschoenepernhard', 1846, 'vigvam', 1813, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bg5,Be7,O-O-O,h6,Bh4,O-O,e5,dxe5,Qxe5,Qe8,Nb5,Bd6,Qxe8,Rxe8,Bxf6,Bf4+,Kb1,gxf6,g3,Be5,Bg2,a6,Nd4,Rb8,Rhe1,c5,Nb3,c4,Nc5,b6,Ne4,Bf5,Nd6', 'Bxd6,Rxe8+,Rxe8', 'https://lichess.org/training/SZSRn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('szU6Y', 'Classical', 'allit', 1776, 'chibuleo', 1836, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Qxd4,Bd7,Bxc6,Bxc6,O-O,Nf6,Re1,Be7,e5,dxe5,Qxe5,Bxf3,gxf3,Qd6,Bf4,O-O-O,Qxe7,Qxf4,Qxf7,Qxf3,Nc3,Rd4,Ne2,Qg4+,Ng3,h5,Re7,Rd7,Rxd7,Nxd7,Re1,Kd8', 'Qe7+,Kc8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/szU6Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('szUcR', 'Blitz', 'Muddy21', 2065, 'Tonipare', 2107, 'e4,d5,exd5,Nf6,d4,e6,dxe6,Bxe6,Nf3,c5,Be3,Nc6,Bb5,cxd4,Bxc6+,bxc6,Nxd4,c5,Nxe6,Qxd1+,Kxd1,fxe6,Ke2,Kf7,Nc3,Nd5,Nxd5,exd5,Rhd1,d4,Bf4,Re8+,Kf3,Be7,b4,Rhf8,Kg3,Kg8,bxc5,Bxc5,Rab1,Re4,Bc7,d3,Rxd3', 'Bxf2+,Kh3,Rh4#', 'https://lichess.org/training/szUcR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SzuIQ', 'Blitz', 'ht4924', 1977, 'overcomma', 2211, 'd4,Nf6,c4,c5,Nf3,cxd4,Nxd4,b6,Nc3,Bb7,e3,a6,Nf3,e6,Be2,d6,O-O,Nbd7,b4,Rc8,Bb2,Be7,Rc1,O-O,Qb3,Rc7,Rfd1,Qa8,a4,Rfc8,Rc2,Ne4,Rdc1,Bf6,Bf1,Nxc3,Bxc3,Bxf3,gxf3,Qxf3,Bxf6,gxf6,Bg2,Qg4,Kh1,Kh8,Qd3,Rg8,f3,Ne5,Qd1,Qh5,Qxd6,Nxf3,Qxc7,e5,h3,Rg3,Qd8+,Kg7,Qd5', 'Rxh3+,Bxh3,Qxh3+,Rh2,Qxh2#', 'https://lichess.org/training/SzuIQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SZV5Q', 'Rapid', 'pagadix', 1619, 'kfr01', 1765, 'e4,e5,Nf3,d6,c3,Qf6,d4,h6,dxe5,dxe5,a3,Ne7,b4,c6,c4,Nd7,Bb2,g5,c5,Ng6,Nbd2,g4,Ng1,h5,Bc4,Be7,Ne2,Ndf8,Bb3,Nf4,O-O,Be6,Re1,Nd3,Bxe6,Qxf2+,Kh1,Nxe6,Rf1,Qh4,Qc2,Nxb2,Qxb2,Qg5,Nc4,f6,Ng3,O-O-O,Nf5,Bf8,Ncd6+,Bxd6,Nxd6+,Kc7,Nf7,Qg7,Nxh8,Qxh8,Rad1,Nd4,Qf2,f5,exf5,Qf6,Qe3,Rd5,h3,b6,cxb6+,axb6,hxg4,hxg4,Qf2,Nb5,Rxd5,cxd5,Rc1+,Kb7,a4', 'Qh6+,Kg1,Qxc1+', 'https://lichess.org/training/SZV5Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('szv6z', 'Rapid', 'brodlt', 1788, 'Kabolany', 1789, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,h6,h3,a6,Be2,d6,Nh2,Be6,d3,Qd7,Nd5,Nxd5,exd5,Bxd5,Bg4,Be6,Bxe6,Qxe6,Nf3,O-O-O,c3,d5,b4,Be7,Re1,e4,Nd4,Nxd4,cxd4,Bxb4,Bd2,Bxd2,Qxd2,g5,dxe4,dxe4,Rac1,g4,Qa5,c6,Qb6,gxh3,g3,h5,Rc5,h4,Rb1,h2+,Kh1,Kd7', 'Qxb7+,Ke8,Re5', 'https://lichess.org/training/szv6z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SzvGo', 'Rapid', 'lemmerdeur', 1699, 'misi6319', 1703, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Bd6,Bxc6+,bxc6,d3,Nf6,h3,O-O,Nd2,c5,Ngf3,Re8,Nb1,d4,exd4,exd4+,Kf1,Be6,Nbd2,c6,Nc4,Bxc4,dxc4,Nh5,Nxd4,Ng3+,fxg3,cxd4,Bxd4,Bxg3,Qg4,Be5,Bxe5,Rxe5,Kg1,Rg5,Qf3,Qd4+,Kh2,Qe5+,g3,Rd8,Rhe1,Rd2+,Kh1,Qb8,Qxc6,Rh2+,Kxh2', 'Qxg3+,Kh1,Qxh3#', 'https://lichess.org/training/SzvGo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('szw1q', 'Rapid', 'Bacamorte', 1842, 'robfast', 1866, 'g4,d5,Bg2,c6,h3,e5,d4,e4,Bf4,Bd6,Qd2,Ne7,Nc3,Ng6,Be3,Be6,O-O-O,Nd7,f3,Bb4,a3,Bxc3,Qxc3,O-O,fxe4,dxe4,Bxe4,Bd5,Bxd5,cxd5,h4,Nb6,h5,Rc8,Qd3,Ne7,Nf3,Nc4,Ng5,f5,Ne6,Qa5,Nxf8,Kxf8,gxf5,Qb6,Qb3', 'Qxb3,cxb3,Nxe3+', 'https://lichess.org/training/szw1q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('szxUL', 'Classical', 'Cesar_chess', 1661, 'Dragon1930', 1771, 'd4,Nf6,Nf3,d5,c4,Bf5,Nc3,dxc4,e3,e6,Bxc4,Nc6,O-O,a6,a3,Bd6,Re1,Ne4,Nd2,Bxh2+,Kxh2,Qh4+,Kg1,Qxf2+,Kh1,Bh3,Bf1', 'Ng3+,Kh2,Nxf1+,Rxf1,Qxg2#', 'https://lichess.org/training/szxUL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sZY4A', 'Rapid', 'TAJBO4', 2139, 'osbahotto', 2262, 'd4,d5,e3,Nf6,Bd3,b6,c3,e6,Nd2,Be7,f4,O-O,Ngf3,Ba6,Bxa6,Nxa6,O-O,c5,Ne5,Qc7,Rf3,b5,Rg3,Rfc8,Qf3,b4,e4,bxc3,bxc3,cxd4,cxd4,Qxc1+,Rxc1,Rxc1+,Nf1,Nxe4,Qh5,g6,Rg4,Nd2,h3,Rxf1+,Kh2,Ne4,Nxf7,Nf6,Nh6+,Kg7,Qh4,Nxg4+,Qxg4,Kxh6,Qxe6,Bb4,Qxa6,Rb1,Qb7,Re8,a3,Ree1,axb4,Rh1+,Kg3,Rb3+,Kg4,Rf1,Qxd5,Rb2,Qc5', 'Rxg2+,Kh4,Rxf4#', 'https://lichess.org/training/sZY4A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('szYrg', 'Blitz', 'FM Mikasinski', 2454, 'FM Fluke180', 2474, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bg5,Qb6,Bd3,Bxd3,Qxd3,e6,Nd2,c5,c4,Qxb2,Rd1,Qxd4,Qb3,Nd7,Ngf3,Qg4,cxd5,exd5,Qxb7,Rb8,Qxd5,Ne7,Qd3,Ng6,Ne4,Ngxe5,Nxe5,Nxe5,Qd8+,Rxd8', 'Rxd8#', 'https://lichess.org/training/szYrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('SzyWY', 'Blitz', 'younesf', 1744, 'MadKira', 1727, 'e4,Nf6,e5,Nd5,Bc4,Nb6,Bb3,Nc6,Qh5,e6,d3,d5,Bg5,Be7,Nh3,Nxe5,Bxe7,Qxe7,Qxe5,O-O,O-O,f6,Qg3,e5,c4,dxc4,dxc4,c5,Nc3,Be6,Kh1,Bxc4,Bxc4+,Nxc4,Rfe1,Nxb2,Rab1,Nc4,Qd3,Nb6,Nb5,c4,Qf3,Rfd8,Ng1,Rac8,Ne2,Nd5,Nxa7,Ra8,Nb5,Rxa2,Nec3,Nxc3,Qxc3,Rxf2,Qxc4+,Kh8,Nc7,Rc8,Rxb7,Qd8,Rc1,Qd2,Nd5', 'Qxc1+,Qxc1,Rxc1#', 'https://lichess.org/training/SzyWY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('sZzL6', 'Blitz', 'TourSan', 2332, 'NM Caio2519', 2344, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Nf3,g6,c5,Bg7,Rb1,O-O,b4,Ne4,Ne2,Bg4,Be3,Bxf3,gxf3,Nf6,Bh3,e5,O-O,a6,a4,Nh5,b5,axb5,axb5,Nxd4,Nxd4,exd4,Bxd4,Qg5+,Kh1,Qh4,Bg4,Nf6,Rg1,Ra2,f4,h5,Bf3,Qxf4,Be3,Qh4,Bxd5,Rd8,Bxf7+,Kxf7,Qxd8', 'Qe4+,Rg2,Qxb1+', 'https://lichess.org/training/sZzL6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t03UN', 'Rapid', 'pocket_thesaurus', 1858, 'idiota1974', 2041, 'c4,e5,Nc3,d6,e3,f5,d4,Be7,Nf3,e4,Nd2,Nf6,Be2,O-O,O-O,Nbd7,b4,c5,Bb2,cxb4,Ncb1,d5,Qb3,dxc4,Nxc4,Kh8,Nbd2,Nb6,Nxb6,Qxb6,Nc4,Qd8,Ne5,Nd5,a3,bxa3,Bxa3,Bxa3,Rxa3,a6,Bc4,Be6,Bxd5,Bxd5,Qb2,b5,Rc1,f4,Rc5,f3,Rac3,Qg5,g4,Bc4', 'Nf7+,Rxf7,Rxg5', 'https://lichess.org/training/t03UN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T067I', 'Blitz', 'Almanressort', 2212, 'IM gravereaper', 2590, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,h6,Nd5,Nxd5,exd5,a6,Nc3,Nd4,Be3,Nf5,Qf3,d6,O-O-O,Be7,Kb1,Nxe3,fxe3,f5,e4,g6,Bd3,f4,g3,O-O,gxf4,Rxf4,Qg3,Kh7,Rhg1,Qe8,Rdf1,Bg5,Ne2,Rxf1+,Rxf1,Bd7,h4,Be7,c4,b6,Ng1,Qg8,Nh3,Rf8,Rg1,Rf6,Rh1,Qf7', 'Ng5+,hxg5,hxg5+', 'https://lichess.org/training/T067I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T0B6T', 'Blitz', 'Chessus-Christ', 1662, 'ABrooksy', 1655, 'e4,e5,Nc3,Nc6,f4,f6,Nf3,d6,Bc4,Nge7,fxe5,fxe5,Nxe5,Nxe5,Qh5+,g6,Qe2,Bg4,Qf1,Bg7,d4,Rf8,Qxf8+,Kxf8,dxe5,Bxe5,Rf1+,Kg7,h3,Bg3+,Kd2,Bh5,Rf7+,Kh6,Kd3+,g5,Rf6+,Bg6,Ne2,Nc6,Re6,Ne5+,Kc3,Qh8,Nxg3,Nxc4+,Kxc4,Rd8', 'Nf5+,Kh5,g4#', 'https://lichess.org/training/T0B6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t0Bv8', 'Rapid', 'msasdt', 1652, 'Jinzo21', 1671, 'e4,e6,Nf3,d5,exd5,exd5,Bd3,Nf6,O-O,Be7,c4,dxc4,Bxc4,O-O,d3,Nbd7,Nc3,c6,Be3,b5,Bb3,a5,a3,Bc5,Bxc5,Nxc5,d4,Nxb3,Qxb3,Be6,Qd1,Bg4,Qd3,c5,Nxb5,Rb8,Nc3,Rxb2,Na4,Bxf3,Nxb2,Be4,Qd2,cxd4,f3,Bg6,Rad1,Qb6,Nc4,Qc5,Nxa5,Qxa3,Ra1,Qe3+,Qxe3,dxe3,Rfe1,Nd5,Nc4,Re8,Kf1', 'Bd3+,Kg1,Bxc4', 'https://lichess.org/training/t0Bv8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t0CaN', 'Classical', 'and-11', 1602, 'Artistchess', 1631, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,d5,cxd5,Nxd5,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,O-O,e4,b6,Bd3,Ba6,O-O,Bxd3,Qxd3,c5,Rfd1,cxd4,cxd4,Nc6,Qb5,Rc8,Rac1,Nxd4,Nxd4,Qxd4,e5,Rxc1,Rxc1,Qd2,Qc4,h6,h3,Qg5,f4,Qh5,Qa6,f6,exf6,Rxf6,Rc8+,Kh7,Qd3+,Qf5,Qxf5+,exf5,Rc7,a5,a4,Kg6,Kf2,Kh5,Rxg7,Rd6,g4+,fxg4,Rxg4,Rd4,Kg3,Rxa4', 'Rh4+,Kg6,f5+,Kxf5,Rxa4', 'https://lichess.org/training/t0CaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T0Cnm', 'Rapid', 'Fabio18', 1635, 'arriopolis', 1698, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,Bxc3+,bxc3,bxc6,Bd3,O-O,O-O,Re8,Bg5,h6,Bh4,Bb7,Rb1,Rb8,Rb3,c5,c4,Bxe4,Bxe4,Rxe4,Rxb8,Qxb8,Bxf6,gxf6,Qxd7,Rxc4,Qd3,Rd4,Qc3,Qb4,Qg3+,Kh8', 'c3,Qb6,cxd4', 'https://lichess.org/training/T0Cnm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t0Db1', 'Blitz', 'PhantomRouge', 1704, 'Gabigab78', 1589, 'e4,c5,d4,e6,Nf3,cxd4,Qxd4,Nc6,Qc3,Qa5,Qxa5,Nxa5,Bf4,Nc6,g3,Nb4,Bg2,Nxc2+,Kd1,Nxa1,Nc3,Bb4,Ke2,Bxc3,bxc3,Nc2,e5,Na3,Ng5,Nb5,c4,Nd4+,Kd3,Nf5,g4,Nfe7,h4,Nh6,Bf3,O-O,Be4,g6,h5,f5,gxf5,Nexf5,hxg6,hxg6,Bxf5,Nxf5,Nh7,Rf7,Nf6+,Kf8', 'Rh8+,Ke7,Re8#', 'https://lichess.org/training/t0Db1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t0fb4', 'Rapid', 'SjakkAnders94', 1638, 'Mike_the_pike', 1648, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,Be2,Ne7,h3,Bh5,O-O,Nf5,Re1,Qb6,c3,c5,Be3,cxd4,Nxd4,Qxb2,Nd2,Bxe2,Qxe2,Nxe3,Qxe3,Bc5,Reb1,Qa3,Rxb7,O-O,N2b3,Bb6,Qg3,Qa6,Rxf7,Rxf7,Nxe6,Nc6,Nbd4,Nxd4,cxd4,Bxd4,Nxd4,Raf8,e6,Rxf2,e7,Rf1+,Rxf1,Qxf1+,Kh2,Re8,Ne6,Rxe7', 'Qb8+,Kf7,Qf8+,Kxe6,Qxf1', 'https://lichess.org/training/t0fb4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t0FyF', 'Blitz', 'yothisisme', 1601, 'grzeskusus', 1630, 'e4,c5,Nf3,Nc6,Nc3,g6,d4,cxd4,Nxd4,Bg7,Bb5,Nf6,Nxc6,bxc6,Bc4,e6,O-O,d5,exd5,cxd5,Bb5+,Bd7,Bg5,O-O,Qf3,Bxb5,Nxb5,a6,Nd4,e5,Nc6,Qd6,Na5,e4,Bxf6,Bxf6,Qe3,Bxb2,Rab1,Be5,f3,Bxh2+,Kh1,exf3,Qxf3,Be5,Nb3,Rae8,Rbe1,Bf6', 'Rxe8,Rxe8,Qxf6,Qxf6,Rxf6', 'https://lichess.org/training/t0FyF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T0IIF', 'Rapid', 'e4warrior_edpers', 2000, 'pepsiplayer31', 2012, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nc6,Be2,e6,Qd2,Be7,O-O-O,Bd7,f4,h6,Bh4,Qc7,Kb1,b5,Bf3,b4,Nce2,Nxe4,Bxe4,Bxh4,Nxc6,Bxc6,Qxd6', 'Qxd6,Rxd6,Bxe4', 'https://lichess.org/training/T0IIF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T0IrW', 'Blitz', 'Leherzahn', 2333, 'NM ShahxaibKhan', 2299, 'e4,d5,Nc3,dxe4,Nxe4,e5,Nf3,f5,Ng3,e4,Ne5,Qf6,d4,Bd6,Nc4,Ne7,Nxd6+,cxd6,h4,O-O,Bg5,Qe6,Bc4,Qxc4,Bxe7,Re8,Bxd6,Nc6,c3,e3,fxe3,Rxe3+,Kf2,f4,Nf1,Rd3,Qe2,Bd7,Rd1,Qd5,Qxd3,Qxd6,Nd2,Ne5,Qc2', 'Ng4+,Kg1,Ne3,Qb3+,Be6', 'https://lichess.org/training/T0IrW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t0KNI', 'Rapid', 'SrSebas', 1881, 'yxcvbn', 1750, 'e4,e5,Nf3,d6,Bc4,Be7,c3,Nf6,d3,h6,O-O,Bg4,Nbd2,Nc6,Qb3,Na5,Qb5+,c6,Qb4,d5,Qa4,b5,Bxb5,cxb5,Qxb5+,Bd7,Qa6,O-O,Nxe5,Nc6,Nxc6,Bxc6,Qxc6,Rc8,Qa4,dxe4,dxe4,Nd7,Nf3,Nc5,Qxa7', 'Ra8,Qxa8,Qxa8', 'https://lichess.org/training/t0KNI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t0MPw', 'Blitz', 'omprakash6', 1545, 'Sam76909', 1528, 'e4,c5,Bc4,e6,d3,Ne7,Nf3,d5,exd5,Nxd5,O-O,Be7,c3,a6,a3,b5,Bb3,Nc6,Re1,O-O,d4,c4,Bc2,Bd6,Nbd2,Bb7,Ne4,Bc7,Nc5,Bc8,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Nf6,Qh4,Ne7,Nce4,Ng6', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/t0MPw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T0NP7', 'Classical', 'Thewolff44', 1713, 'g_roberti', 1622, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,d4,exd4,Nd5,Nxd5,Bxd5,Nb4,c3,Nxd5,exd5,dxc3,bxc3,Qf6,Qd2,Bb4,Bb2,Ba5,Rfe1,d6,Re2,Bg4,Re3,Rfe8,Qd3,Rxe3,Qxe3,Kf8,c4,Qxb2,Re1,Bxf3', 'Qe7+,Kg8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/T0NP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T0Pv9', 'Rapid', 'KiyoBrandreth', 1794, 'chessalfa07', 1778, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,e6,Nf3,Be7,O-O,O-O,Nc3,Nc6,e4,Bb4,e5,Nd5,Ne4,f5,Neg5,f4,Qd3,g6,a3,Be7,Ne4,Kh8,Ne1,Bg5,Qf3,Nxd4,Qd3,Nf5,Nxg5,Qxg5,Bxd5,exd5,Qxd5,Nh4,g3,Bh3,Nd3,Rad8,Bxf4,Rxf4,Qxd8+,Qxd8,Nxf4,Bxf1,Kxf1,Nf3,e6,Nxh2+,Kg2,Ng4,Re1,Qe7,Nd5,Qd6,Nf4,Qc6+,Kg1,Qb6,Re2,Nf6,e7,Kg7,Nd5,Qc6', 'Nxf6,Kxf6,e8=Q,Qxe8,Rxe8', 'https://lichess.org/training/T0Pv9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t0rdu', 'Classical', 'erissako', 1626, 'Alex60767', 1724, 'd4,e6,c4,d5,Nc3,c5,Bf4,Nc6,e3,Nf6,Nf3,Bd6,Bg5,h6,Bh4,g5,Bg3,Bxg3,hxg3,Qd6,Nb5,Qe7,Qa4,Bd7,Ne5,Nxe5,dxe5,Ng8,Nd6+', 'Qxd6,exd6,Bxa4', 'https://lichess.org/training/t0rdu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t0snD', 'Blitz', 'SeeYouDownArizonaBay', 2114, 'Tellmarch', 2109, 'c4,e5,g3,f5,Nf3,Nf6,Nxe5,Bc5,d4,Bb4+,Bd2,Bxd2+,Nxd2,O-O,e3,c5,d5,d6,Nd3,Nbd7,Bg2,Ne5,Nxe5,dxe5,O-O,e4,Nb1,Ng4,h3,Ne5,b3,Qf6,Na3,g5,Rc1,g4,h4,Nf3+,Bxf3,gxf3,Kh2,Qg6,Rh1,Qg4,Kg1,f4,exf4,Rxf4,Qd2,Rf5,Re1,Bd7,Nb5,Bxb5,cxb5,Rd8,d6,Rf6,Qd5+,Qe6,Qxe4,Qxe4,Rxe4,Rfxd6,Rf4,Rf8,Rxf8+,Kxf8,Kh2,Rd2,Rc1,Rxf2+,Kh3,b6,a3,Rb2,b4,cxb4,axb4,Rxb4,Rc3,Rxb5,Rxf3+,Ke7,g4,a5,h5,a4,Kh4,Rb3,Rf4,b5,g5,a3,g6,hxg6,hxg6,a2,Rf7+,Ke6,Ra7,Rb2,g7,a1=Q,Rxa1,Kf7,Ra7+,Kg8,Kg5,Rg2+,Kf6,b4', 'Ra8+,Kh7,Rh8#', 'https://lichess.org/training/t0snD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t0ssw', 'Rapid', 'DyIan', 2017, 'hamidreza555', 1986, 'c4,Nf6,Nc3,e6,e4,d5,e5,d4,exf6,dxc3,bxc3,Qxf6,d4,c5,Nf3,h6,Be2,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O,b6,Ne5,Bb7,Qe3,Rd8,Rad1,Nc6,f4,Nxe5,fxe5,Qg6,Bf3,Bxf3,Rxf3,Qc2,Rdf1,Qxc4,Rxf7,Qxd4', 'Rf8+,Kh7,Qxd4,Rxd4,Rxa8', 'https://lichess.org/training/t0ssw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T0yun', 'Blitz', 'omran23', 2027, 'CaissaChess', 2075, 'd4,e6,Nf3,Nf6,Bg5,Be7,Nc3,b6,e3,Bb7,Bd3,O-O,O-O,d6,h3,Nbd7,Re1,h6,Bh4,Nd5,Nxd5,Bxd5,Bxe7,Qxe7,e4,Bb7,c4,c5,d5,e5,Nh2,g5,Re3,Nf6,Rg3,Kg7,Qe2,Bc8,Rf1,Kh7,a3,Bd7,Ng4,Nxg4,hxg4,Rg8,Rh3,Rg6,g3,Rf6,Kg2,Kg7,Rfh1,a6,f3,Rb8,b4,cxb4,axb4,a5,b5,Ra8,Ra1,Qe8,Qb2,Qc8,Qa3,Rxf3,Qxd6,Rf6,Qxe5,Qc5,Rf1,Qd6,Qxf6+,Qxf6,Rxf6,Kxf6,Rxh6+,Ke5,Rxb6,Bxg4,Ra6,Rh8,b6,Kd4,Bf1,Ke3,Rxa5', 'Bf3+,Kg1,Rh1#', 'https://lichess.org/training/T0yun');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t11n1', 'Bullet', 'merab1993', 1624, 'kpaxmu', 1588, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,d4,Nf6,h3,Qh5,Be2,Nc6,O-O,O-O-O,hxg4,Nxg4,Ne4,Nce5,Ng3', 'Nxf3+,Bxf3,Qh2#', 'https://lichess.org/training/t11n1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T11Tp', 'Blitz', 'ekok1984', 2406, 'FM makeareason', 2438, 'f4,d5,Nf3,g6,g3,Bg7,Bg2,Nc6,O-O,h5,d3,h4,Nc3,hxg3,hxg3,Bh3,Bxh3,Rxh3,Kg2,Qd7,e4,dxe4,dxe4,Qxd1,Rxd1,Rh5,e5,Nh6,Nb5,Rc8,Be3,a6,Nbd4,Nxd4,Nxd4,Ng4,Bg1,f5,Ne6,Kf7,Ng5+,Rxg5,fxg5,Bxe5,Bd4', 'Bxd4,Rxd4,Ne3+,Kf3,Nxc2,Rad1,Nxd4+', 'https://lichess.org/training/T11Tp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T17kO', 'Blitz', 'muhammedenesakkoyun', 1995, 'gbsky', 2002, 'd4,g6,Nf3,Bg7,Bf4,Nf6,e3,d6,Be2,h6,O-O,g5,Bg3,O-O,c4,Nc6,Nc3,a6,b3,Nh7,Qc2,f5,h3,Nf6,Bd3,Nb4,Qb1,Nxd3,Qxd3,c6,Rae1,d5,cxd5,cxd5,Ne5,Ne4,Nxe4,dxe4,Qc4+,e6,Rc1,f4,exf4,gxf4,Bh2,Qg5,d5,b5,Qc6,Bb7,Qxb7,Bxe5,dxe6,Rae8,Qxe4,Rxe6,Rce1,Rg6,g4,fxg3,fxg3,Rxf1+,Rxf1,Bxg3,Qa8+,Kh7,Qb7+,Rg7,Qe4+,Kg8,Qa8+,Kh7,Qe4+,Kh8,Qa8+,Rg8,Qe4,Bxh2+,Kxh2', 'Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/T17kO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T198E', 'Rapid', 'cebccn', 2043, 'brunnsbobonde2', 2022, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,Bg4,Bc4,e6,h3,Bxf3,Qxf3,Nd4,Bb5+,Nxb5,Nxb5,a6,Nc3,b5,f5,b4,fxe6,fxe6,O-O,Nf6,Ne2,e5,g4,Qe7,g5,Nd7,d4,g6,dxc5,dxc5,Bf4,exf4,Nxf4,Ne5,Qg2,Bg7,Nd5,Qd6,Nf6+,Bxf6,Rad1,Qe7,gxf6,Qf7,Qg3,Nd7,e5,O-O,e6,Qxe6,Rfe1,Qc6,Rd6,Qc7,f7+,Rxf7', 'Rxg6+,hxg6,Qxc7', 'https://lichess.org/training/T198E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T1aWn', 'Rapid', 'cwk-justin-w1', 1999, 'cariocaaprendiz', 1865, 'e4,c5,Nc3,a6,g3,e6,Bg2,b5,a3,Bb7,d3,h6,f4,d6,Nf3,Nf6,O-O,Be7,Bd2,Nbd7,h3,O-O,g4,d5,Qe1,d4,Ne2,Qb6,Ng3,a5,f5,e5,Nh2,c4,h4,cxd3,cxd3,Nc5,Qe2,Nh7,g5,hxg5,hxg5,Bxg5,Bxg5,Nxg5,Qh5,f6,Qg6,Nxd3,Ng4,Nf4,Rxf4,exf4,Nh5,Rf7,Nh6+,Kf8,Nxf7,d3+,Kh1,Nxf7,Qxg7+,Ke7,Nxf4,Qe3,Nd5+,Bxd5,exd5,Qh6+', 'Qxh6,Nxh6,d6+,Kxd6,Bxa8', 'https://lichess.org/training/T1aWn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t1CFy', 'Blitz', 'EvertQuiroz', 1835, 'eoyarzu22', 1900, 'Nf3,d5,d4,Nf6,c4,g6,g3,Bg7,Bg2,dxc4,O-O,O-O,Nc3,Nbd7,Qa4,Nb6,Qb4,c6,Ne5,Nfd5,Qa3,Be6,e4,Nxc3,bxc3,Bxe5,dxe5,Qc7,Bh6,Rfd8,f4,Rd3,f5,gxf5,exf5,Bd5,Rae1,Bxg2,Kxg2,Nd5,Qc1,f6,e6,Rd8,Kh3,Qa5,Qc2,Kh8,Qe2,Qxc3,Qh5,Rg8,Re4,Ne3,Rh4,Nxf5,Qxf5', 'Rdxg3+,hxg3,Qxg3#', 'https://lichess.org/training/t1CFy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t1CgX', 'Rapid', 'lighteningbolts', 2088, 'Tuba27', 2200, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d4,exd4,e5,d5,exf6,dxc4,fxg7,Bxg7,Bg5,f6,Bd2,Be6,O-O,Qd7,c3,d3,b3,O-O-O,bxc4,Bxc4,a4,a6,Na3,Bd5,Nd4,f5,Nxc6,Qxc6,g3,Be5,Re1,Rde8,Qh5,Bf3', 'Qxf5+,Kb8,Rxe5,Rxe5,Qxe5', 'https://lichess.org/training/t1CgX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t1D9E', 'Rapid', 'encyclopedia13', 1762, 'MarkTven', 1900, 'e4,c5,Bc4,Nc6,Nc3,g6,d3,Nf6,Be3,b6,a3,Bg7,Qd2,Nd4,O-O-O,e6,Bh6,O-O,Bxg7,Kxg7,Nb5,Nxb5,Bxb5,a6,Bc4,b5,Ba2,Bb7,h4,h5,f3,d5,e5,Nd7,f4,d4,Nh3,Nb6,Rhg1,Nd5,g3,Rc8,Bxd5,Qxd5,g4,Qa2,Qe2,Qa1+,Kd2,Qxb2,gxh5,Qc3+,Kc1,Qxa3+,Kd2,Qc3+,Kc1,c4,hxg6,f5,exf6+,Rxf6,dxc4,bxc4,Nf2,d3,Nxd3,cxd3,Rxd3,Qa1+,Kd2,Qxg1,Rd7+,Kh6', 'Rh7+,Kxg6,Qh5#', 'https://lichess.org/training/t1D9E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t1DcD', 'Rapid', 'Elgozi', 1645, 'zuckertort2', 1616, 'e4,e5,Bc4,Nf6,Qf3,Nc6,Ne2,d5,exd5,Bg4,Qe3,Bxe2,dxc6', 'Bxc4,cxb7,Rb8', 'https://lichess.org/training/t1DcD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T1FwD', 'Rapid', 'Prayuth', 1879, 'luul19', 1846, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,e5,Nb3,Be6,Bb5+,Nc6,Be3,a6,Bxc6+,bxc6,O-O,d5,exd5,cxd5,c3,Bd6,N1d2,O-O,Qe2,Qc7,Qf2,Nd7,g3,f5,f4,Rac8,Rac1,Nf6,fxe5,Bxe5,Bf4,Ng4,Bxe5,Nxe5,Nd4,Rce8,Qg2,Nd3,Rb1,Qd7,Qe2,Nc5,N2f3,Bf7,Ne5,Qe7,Rbe1,Ne4,Nxf7,Qxf7,Rxf5,Nxg3,Rxf7,Nxe2+,Rxe2,Rxe2', 'Rxf8+,Kxf8,Nxe2', 'https://lichess.org/training/T1FwD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t1fyE', 'Classical', 'Ekstroem', 1774, 'Zane2007', 1879, 'e4,c5,c3,Nf6,f3,e6,d4,Nxe4,fxe4,Qh4+,Kd2,Qxe4,Nf3,g6,Bd3,Qf4+,Kc2,Qc7,dxc5,Bxc5,Bh6,Nc6,Nbd2,d5,Re1,Bd7,Bg7,Rg8,Bf6,Bd6,Rc1', 'Nb4+,Kb1,Nxd3', 'https://lichess.org/training/t1fyE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t1FzP', 'Blitz', 'fearless_fighteerr', 2167, 'WFM Bullet_House', 2040, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d3,d6,Nbd2,Nbd7,e4,e5,Qe2,Ne8,c3,f5,Rd1,f4,Nf1,h6,h3,g5,g4,Nc5,d4,Ne6,dxe5,Qe7,exd6,Nxd6,b3,Qf7,Ba3,h5,e5,hxg4,hxg4,Nd8,exd6,Re8,Qb5,c6,Qxg5,Ne6,Qh4,Bf6,g5,Bd8,Ne5,Qg7,Nf3,Nxg5,Qxf4', 'Nh3+,Kh1,Nxf4', 'https://lichess.org/training/t1FzP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T1KxD', 'Rapid', 'Prabhakar_Epiroc', 1770, 'qamshlo', 1803, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,dxc4,Bxc4,b6,O-O,Bb7,Ne5,Nc6,Qf3', 'Nxe5,Qxb7,Nxc4', 'https://lichess.org/training/T1KxD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t1oPM', 'Rapid', 'Atar42', 1652, 'lika1212', 1663, 'e4,e5,Nf3,Nf6,Bc4,Bc5,Nc3,O-O,O-O,d6,a3,c6,b4,Bb6,d3,Bg4,h3,Bh5,Be3,Bc7,d4,b5,Bb3,Nbd7,d5,cxd5,Nxd5,Rc8,Nxc7,Rxc7,Qd3,a6,Qxd6,Nxe4,Qd3,Bxf3,gxf3,Ng5,Qf5,h6,Kh2,Qa8,Bxg5,hxg5,Qxg5,Qxf3,Rg1,g6', 'Qxg6+,Kh8,Qh6#', 'https://lichess.org/training/t1oPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T1pW6', 'Blitz', 'mehmettunyer', 1623, 'budikgmedoho', 2010, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,d3,Bg4,Be2,c6,Bg5,Nd7,O-O,Bd6,c4,Qe6,d4,e4,Nd2,f6,Be3,h5,h3,O-O-O,hxg4,hxg4,Bxg4,Bh2+,Kh1,Qd6,c5', 'Bg1+,Kxg1,Qh2#', 'https://lichess.org/training/T1pW6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t1Qbe', 'Rapid', 'TheExterminatorSB129', 2024, 'Str_Sma', 2287, 'd4,Nf6,c4,e6,g3,c5,d5,exd5,cxd5,d6,Nc3,g6,Bg2,Bg7,Nf3,O-O,O-O,Re8,Nd2,Nbd7,h3,a6,a4,b6,Nc4,Ne5,Na3,h5,f4,Ned7,Nc4,Qc7,e4,Bb7,Qc2,Nh7,e5,dxe5,f5,Nhf8,Be4,Nf6,fxg6,fxg6,Bxg6,Nxg6,Qxg6,Nxd5,Nxd5,Bxd5,Nxb6,Bf7,Nxa8,Rxa8,Qe4,Rb8,Ra3,Rb4,Qa8+,Kh7,Raf3,Bg6,Qxa6,e4,Rf4,Rb3,Kg2,Be5,Qe2,Bxf4,Bxf4,Qb7,Be5,Rf3,Rxf3', 'exf3+,Qxf3,Be4,Qxe4+,Qxe4+', 'https://lichess.org/training/t1Qbe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t1qTN', 'Rapid', 'joseelhijodecailo', 1919, 'axela', 1907, 'e4,e6,Nf3,c5,Bc4,Nc6,Nc3,a6,d4,b5,Bd3,cxd4,Ne2,e5,O-O,Be7,c3,dxc3,Nxc3,h6,a3,Nf6,Nd5,O-O,h3,Bc5,Nh2,Nd4,Be3,Bb7,b4,Ba7,Ng4,Nxd5,Nxh6+,gxh6,Bxh6,Nf6,Qd2,Nh7,Qe3,Re8', 'Qg3+,Qg5,Bxg5', 'https://lichess.org/training/t1qTN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T1rin', 'Blitz', 'Gentleman_Kira', 1922, 'haroche', 1719, 'd4,d6,Bg5,f6,Bh4,g5,Bg3,e6,e4,Bd7,Qh5+,Ke7,c4,Be8,Qd1,Bg6,Nc3,Na6,a3,Qd7,Bd3,Re8,e5,fxe5,Bxg6,hxg6,dxe5,d5,cxd5,exd5,Nxd5+,Kd8,Nc3,Qxd1+,Rxd1+,Kc8,Nf3,Ne7,Nxg5,Nf5,O-O,Nxg3,fxg3,Rxe5,Nf7,Bc5+,Kh1', 'Rxh2+,Kxh2,Rh5#', 'https://lichess.org/training/T1rin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T1slH', 'Classical', 'Bbobby', 1853, 'derdickegott', 1794, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,h6,Bxf6,gxf6,e3,Rg8,g3,dxc4,Bxc4,a6,Bf1,c5,Nge2,Bd7,Bg2,cxd4,Nxd4,e5,Nb3,Nc6,O-O,Bg4,Qc2,Rc8,h3,Nb4,Qe4,Be6,Qxb7,Qc7,Qe4,f5,Qh4,Qe7,Qxe7+,Bxe7,Rfc1,f4,exf4,exf4,g4,h5,f3,hxg4,fxg4,f5,Nd4,Bc5,Ne2,fxg4,Rxc5,Rxc5,Nxe6,gxh3,Nxc5,Rxg2+,Kh1,Rxe2,a3,Nd5,b4,Ne3,Nd3,Nf5,Nxf4', 'Ng3+,Kg1,h2#', 'https://lichess.org/training/T1slH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T1T57', 'Rapid', 'Ternavsky', 1634, 'Dmitrii_M', 1693, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nf6,d4,c5,Bb5+,Bd7,Bxd7+,Nbxd7,Bg5,Be7,Qe2,O-O,O-O-O,Re8,Qd2,h6,Bxf6,Nxf6,Nxd5,Nxd5,dxc5,Nf6,b4,Qxd2+,Rxd2,Rad8,Rhd1,Ne4,Rxd8,Rxd8,Re1,Bxc5,bxc5,Nxc5,Re7,Rd7,Rxd7,Nxd7,Nd4,Kf8,c4,Ke7,Kc2,a6,Kd3,Nc5+,Ke3,Kf6,Nb3,Nxb3,axb3,Ke5,f4+,Kd6,Kd4,f5,c5+,Ke6,b4,g5,g3,gxf4,gxf4,h5,h4,Kf6,Kd5,Ke7,c6,b6,Ke5,a5,bxa5,bxa5,c7', 'Kd7,Kxf5,a4,c8=R,Kxc8', 'https://lichess.org/training/T1T57');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T1u3B', 'Rapid', 'Jayaputra76', 1671, 'Sebi15', 1654, 'b4,e5,Bb2,Bxb4,Bxe5,Nf6,c3,Bc5,d4,Bb6,Na3,Nc6,Bg3,Qe7,Nc4,d6,h3,Ne4,Qc2,Nxg3,fxg3,O-O,e4,Bf5,Bd3,Rfe8,Ne2,Bxe4,O-O,Bxd3,Qxd3,Qxe2,Qf5,Qxc4,Kh2,Ne7,Qd7,Qxc3,Rae1,Rad8', 'Rxe7,h6,Rxe8+', 'https://lichess.org/training/T1u3B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t1v0z', 'Blitz', 'aurvildu', 2231, 'NM jonny_magia', 2368, 'Nf3,d5,d4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bh4,g5,Bg3,Ne4,Rc1,h5,Qa4+,Nc6,Ne5,Bd7,Nxd7,Qxd7,cxd5,exd5,f3,Nxg3,hxg3,Qd6,Kf2,h4,gxh4,gxh4,a3,Bxc3,Rxc3,Qg3+,Ke3,O-O,Kd2,Rfe8,e3,a6,Qc2,Qf2+,Be2,Na5,Qf5', 'Nc4+,Kc1,Qxe2,Qg5+,Kf8', 'https://lichess.org/training/t1v0z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t1Vip', 'Rapid', 'bchakrabarti89', 2050, 'Koumi', 1812, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,g6,Bc4,Bg7,O-O,O-O,h3,a6,Re1,c5,dxc5,Qxc5,Bb3,Nc6,Be3,Qh5,Ng5,Qxd1,Raxd1,e6,Bb6,Nd7,Bc7,Bxc3,bxc3,Nf6,Bb6,Kg7,f3,h6,Ne4,Nxe4,fxe4,e5,Rd6,a5,a4,Ra6,Bc5,Rd8,Red1,Rxd6,Bxd6,f6,Bc7,Ra7,Rd6,Ra6,Kf2,g5,Bc4,Ra8,g4,h5,Bd8,Nxd8,Rxd8,hxg4,hxg4,Kg6,Rg8+,Kh7,Ke3,b5,axb5,a4,Bd5,a3,Rd8,Bb7,Rd7+,Kg6,Rxb7,a2,Be6,a1=Q', 'Bf5+,Kh6,Rh7#', 'https://lichess.org/training/t1Vip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T1Y5b', 'Blitz', 'GM HoldenHc', 2573, 'MrSOK', 2518, 'g3,h5,Bg2,h4,d4,d5,c4,dxc4,Nc3,c6,Bg5,h3,Bf3,Qb6,Qd2,Nf6,e4,Bg4,Bxf6,Bxf3,Bxg7,Bxg7,Nxf3,Na6,O-O,Rd8,Rad1,Nb4,Na4,Qb5,Nc3,Qh5,Qe2,b5,a4,a6,axb5,axb5,d5,Nd3,dxc6,Rc8,Rxd3,cxd3,Qxd3,O-O,Nd5,Rfe8,Rc1,Bxb2,Rc2,Bg7,c7,b4,Nb6,Bc3', 'Nxc8,Rxc8,Qd8+,Rxd8,cxd8=Q+', 'https://lichess.org/training/T1Y5b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T21nu', 'Classical', 'bjcba123', 1875, 'Chris64SQ', 1869, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Bxc6,dxc6,Nxe5,Be7,d3,O-O,Nc3,Be6,d4,Nf5,Nf3,Bf6,Be3,Qe7,Ne4,Nxe3,Nxf6+,Qxf6,fxe3,Bg4,Rf1,Qe6,Qd2,Rad8,b3,c5,Rae1,Bxf3,Rxf3,cxd4,exd4,Qb6,c3,c5,Rd3,cxd4,cxd4,Rd5,Kh1,Rfd8,h3,h6,Qf4,Rxd4,Rxd4,Qxd4', 'Re8+,Rxe8,Qxd4', 'https://lichess.org/training/T21nu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T2251', 'Blitz', 'RaptorTi', 2033, 'Xerxes___Ragnar', 2102, 'g4,e5,d3,d5,h3,h6,Bg2,Nf6,f4,exf4,Bxf4,Nc6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Rb1,b6,c4,Re8,Qd2,Bb7,g5,hxg5,Bxg5,dxc4,h4,Qd6,h5,Ng4,Bf4,Qf6,Bf3,Nh6,Bg5,Qe6,Nh3,Nf5,Nf4,Qe5,h6,c3,Qc1,Ncd4,Kf2,Bxf3,exf3,Qe2+,Nxe2', 'Rxe2+,Kg1,Nxf3+,Kf1,Ng3#', 'https://lichess.org/training/T2251');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T23mB', 'Rapid', 'virgiliodiniz', 2034, 'nzmypc', 2029, 'e4,c5,f4,d6,d3,Nc6,Nf3,g6,Be2,Bg7,O-O,Nf6,Nc3,O-O,Qe1,a6,Qh4,h5,Ng5,Nd4,Bd1,Bg4,Bxg4,Nxg4,h3,Nf6,g4,Nxc2,Rb1,Qd7,Nd5,Nxd5,exd5,Bd4+,Kh1,Kg7,gxh5,gxh5,Qxh5,Qf5,Rf3', 'Rh8,Qxf7+,Qxf7', 'https://lichess.org/training/T23mB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T24pj', 'Rapid', 'Scout_ukr', 1822, 'messyychess', 1882, 'e4,c5,Bc4,Nc6,c3,d6,Qa4,a6,Bd5,Bd7,Qb3,b5', 'Bxf7#', 'https://lichess.org/training/T24pj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t24Xq', 'Blitz', 'Ikllu', 1829, 'Scapegoat', 1787, 'd4,Nf6,Bg5,d5,Bxf6,exf6,e3,Bd6,g3,Bf5,Bg2,c6,Ne2,Nd7,O-O,h5,Nd2,h4,Re1,hxg3,fxg3,Bg4,Qc1,g5,c4,f5,cxd5,cxd5,Bxd5,Rc8,Qb1,Qa5,Bxb7,Qxd2,Bxc8,Qxe3+,Kg2,Rxh2+,Kxh2', 'Qf2+,Kh1,Bf3#', 'https://lichess.org/training/t24Xq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t277d', 'Rapid', 'elCidAmoed', 2007, 'Thasleem', 2079, 'd4,d5,Nf3,e6,c4,Nf6,e3,Be7,Nc3,O-O,Be2,Nbd7,O-O,b6,Ne5,Bb7,cxd5,exd5,Bd2,c5,Rc1,Bd6,f4,a6,Be1,b5,Bg4,Nxg4,Qxg4,Nf6,Qh4,Ne4,Qxd8,Raxd8,Nxe4,dxe4,dxc5,Bxe5,fxe5,Bc6,Ba5,Rd5,Bc3,Rxc5,Bb4,Rxc1,Rxc1,Rc8,Bd6,Bb7,Rxc8+,Bxc8,Kf2,a5,a3,f6,Ke2,Kf7,Kd2,Be6,Kc3,a4,Kb4,Bc4,Kc5,Ke6,exf6,gxf6,g3,h5,h4,Bd3,Bf4,Kf5,Kd6,Bc4,Ke7,Bb3,Kf8,Ke6,Kg7,Kf5,Kh6,Bd1,Kg7,Ke6,Kh6,Bg4,Kg6,f5,Kg5,Kd5,Kf6,Kc4,Be5,Kd3,Bf4,Kd2,Ke6,Kc2,Be5,Kb3,Bd4,b4,axb4,Kxb4,Ke5,Kb3,Kf4,Kc2,Be5,Kd3,Bd4,Kd2,Bc3+,Kc2,Ke5', 'a3,bxa3,Kxc3', 'https://lichess.org/training/t277d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T2AFg', 'Rapid', 'misha512684', 1826, 'Not_knighted', 1838, 'e4,c5,d4,cxd4,Nf3,d6,Nxd4,Nf6,Nc3,a6,Bg5,Nc6,Nxc6,bxc6,e5,h6,Bxf6,gxf6,exd6,e5,Bc4,Qxd6,Qh5,Be6,Ne4', 'Qb4+,Nd2,Bxc4', 'https://lichess.org/training/T2AFg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t2BLy', 'Rapid', 'Rebelul', 1788, 'jona3', 1673, 'e4,e5,Nf3,d6,h3,Be7,Bc4,Nf6,Nc3,c6,d3,Qc7,O-O,O-O,Nh2,Re8,f4,Nbd7,fxe5,Nxe5,Bb3,b6,d4,Ng6,Bf4,Nxf4,Rxf4,Bf8,Qd3,Be6,Bxe6,Rxe6,d5,cxd5,exd5,Re5,Raf1,Qc5+,Kh1,Nxd5,Rxf7,Nxc3,bxc3,Qd5,R7f3,Rc8,Qa6,Qa8,c4', 'Ra5,Qxa5,bxa5', 'https://lichess.org/training/t2BLy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t2byV', 'Rapid', 'bajiraowinner', 1729, 'UsefulPawns', 1874, 'Nf3,Nf6,g3,d5,d4,Bg4,Bg2,Nbd7,Bg5,e6,Bxf6,Nxf6,O-O,c5,c3,Bxf3,exf3,Bd6,Qe2,h5,h4,Nh7,f4,Nf6,Nd2,Ng4,f5,Qf6,fxe6,fxe6,Bxd5,O-O-O,Bxe6+,Kb8,Bxg4,Rde8,Qf3,Qh6,Ne4,hxg4,Qxg4,Rxe4,Qxe4,g5,dxc5,Bc7,Kg2,gxh4,Qxh4', 'Qc6+,f3,Rxh4', 'https://lichess.org/training/t2byV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T2FA7', 'Blitz', 'zyuNo', 1932, 'Wastl2002', 1974, 'c3,e5,d3,d5,Nd2,Nf6,h3,Nc6,g4,Bd6,Bg2,Be6,Nf1,h6,Nf3,Qd7,Ng3,a6,Bd2,e4,dxe4,Nxe4,Nxe4,dxe4,Nd4,Nxd4,cxd4,f5,e3,g6,gxf5,gxf5,Bc3,c6,d5,cxd5,Bxh8,f4,exf4,Bxf4,Bc3,O-O-O,Bd2,Be5,Bxh6,Bf5,Rc1+,Kb8,Qc2,d4,Bxe4,d3,Bxf5,Qxf5,Qc4,Qf3,O-O,Qxh3,Bf4,Bxf4,Qxf4+,Ka8,f3,Rg8+,Kf2,Rg2+,Ke1', 'Re2+,Kd1,Qxf1#', 'https://lichess.org/training/T2FA7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t2fjB', 'Rapid', 'prijo', 1646, 'vihr1959', 1685, 'e4,d6,d4,e6,Nf3,h6,c4,a6,b4,b6,Nc3,Bb7,Bd3,Nd7,O-O,g5,Be3,g4,Nd2,h5,f4,gxf3,Qxf3,Qe7,Qg3,Bh6,Rae1,Bxe3+,Rxe3,O-O-O,c5,h4,Qg7,Ngf6,cxd6,cxd6,Qg5,Rdg8,Qf4,h3,g3,Rg4,Qf3,Rhg8,Qe2,Nb8,Ref3,R8g6,Rxf6,Rxg3+,hxg3,Rxf6,Rxf6,Qxf6,Qf2', 'h2+,Qxh2,Qxd4+', 'https://lichess.org/training/t2fjB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T2FXY', 'Blitz', 'FM Sinestra22', 2487, 'Procellariidae', 2492, 'd4,d5,c4,e6,Nc3,Nf6,g3,Be7,Bg2,O-O,Nf3,c6,O-O,b6,Qc2,Bb7,e4,dxe4,Nxe4,Nbd7,Nxf6+,Nxf6,Ne5,Qc8,Be3,Nd7,Nd3,Rd8,Rad1,c5,d5,exd5,cxd5,Nf6,Nf4,Bd6,Ne2,Be5,Bf4,Bxf4,Nxf4,Qd7,Rfe1,Re8,Rxe8+,Rxe8,a3,Qd6,b4,Nd7,bxc5,Nxc5,a4,h6,Nd3,Nxd3,Qxd3,Bc8,Qd4,Bd7,h4,g6,a5,Rb8,axb6,axb6,Rc1,b5,h5,b4,hxg6,fxg6,Qe3,b3,Rb1,b2,Qxh6', 'Bf5,Rxb2,Rxb2', 'https://lichess.org/training/T2FXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t2gaT', 'Classical', 'Mink0', 1776, 'Hagabdelhalim', 1809, 'e4,e5,Nf3,d6,Bc4,Be7,Bxf7+,Kxf7,d3,Nf6,Ng5+,Kf8,Nc3,h6,Nf3,c6,d4,Nbd7,dxe5,dxe5,b3,Bb4,Bb2,Nxe4,Qd3,Nxc3,Bxc3,Bxc3+,Qxc3,Qf6,O-O-O,e4,Qxf6+,gxf6,Nh4,Kf7,Nf5,Nc5,Nd6+,Ke6,Rhe1,Rg8,b4,Na4', 'Rxe4+,Kd7,Nb5#', 'https://lichess.org/training/t2gaT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T2gMj', 'Rapid', 'Ghost_id', 1793, 'imagine_chess', 1838, 'd4,e6,Bf4,f5,Nf3,Nf6,Nbd2,Be7,e3,d6,c3,Nc6,Be2,O-O,O-O,Ne4,Re1,g5,Nxe4,gxf4,Ned2,fxe3,fxe3,Kh8,Rf1,Rg8,Ne1,Bg5,e4,Be3+,Kh1,Qg5,Ndf3,Qf4,exf5,exf5,Ne5,Qh6,Nf7+,Kg7,Nxh6,Kxh6,Bc4,Rg6,Qf3,f4,Bf7,Bg4,Bxg6,Bxf3,Nxf3,hxg6,h3,Rf8,Rae1,Na5,g3,Nc4,gxf4,Bxf4,Re6,Kh5,b3,Ne3,Re7,Nxf1,Rh7+,Bh6,Kg2,Ne3+,Kg3,Nf5+,Kg2,Nh4+,Nxh4,Kxh4,Rxh6+,Kg5,Rh7,Rc8,Kg3,b5,Re7,Kf6,Re4,d5,Re5,a5,Rxd5,c6,Rd6+,Kf7,Kg4,c5,Kg5,cxd4,cxd4,Rc2,Rb6,b4,d5,Rxa2,d6,Rg2+,Kf4,Rf2+,Kg4,Rf6', 'd7,Rxb6,d8=Q', 'https://lichess.org/training/T2gMj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T2jk4', 'Rapid', 'ecnirpz', 2188, 'Omice', 2274, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,Re8,O-O,e6,h3,d5,exd5,Nxd5,Nxd5,exd5,Qd2,Ne5,Rad1,Be6,Rfe1,Nc4,Bxc4,dxc4,c3,Bd5,Bh6,Qh4,Bxg7,Kxg7,Nf5+,gxf5,Qxd5,Re4,Qxf5,Rae8,Rxe4,Rxe4,g3,Qe7,Rd7,Re1+,Kg2,Qe8,Rxb7', 'Qc6+,Qf3,Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/T2jk4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t2MYC', 'Classical', 'FordxShelby', 1654, 'zazen01', 1791, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Nc3,Nc6,Bb5,e6,O-O,Be7,Ne5,Qc7,Bf4,Bd6,Na4,O-O,Re1,a6,Bxc6,bxc6,c4,dxc4,Rc1,Rd8,Rxc4,Bxe5,Bxe5,Qe7,Rxc6,Bb7,Rc7,Qb4,Bxf6,gxf6,Qg4+,Kf8,Nc3,Rxd4,Rxb7', 'Rxg4,Rxb4,Rxb4', 'https://lichess.org/training/t2MYC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t2twd', 'Bullet', 'CM blitzchessclub', 2165, 'harshheaven', 2209, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nd4,Bc4,d6,c3,Nxf3+,Qxf3,Qf6,Qg3,Qg6,Qxg6,hxg6,d3,Nf6,h3,Ke7,Nd2,Be6,Bxe6,Kxe6,Nf3,d5,exd5+,Nxd5,Re1,f6,d4,Bd6,c4,Nb4,Re2,Kf5,a3,Nd3,c5,Nxc1,Rxc1,Be7,dxe5,g5,exf6,Bxf6,g4+,Kg6,Kg2,Rad8,Ne5+,Bxe5,Rxe5,Rd3,Re3,Rxe3,fxe3,Rd8,c6,Rd2+,Kg3,Rxb2,cxb7,Rxb7,Rc6+,Kf7,Rc5,Kf6,h4,gxh4+,Kxh4,Rb3,Rxc7,Rxa3,e4', 'g5+,Kh5,Rh3#', 'https://lichess.org/training/t2twd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t2Uv4', 'Rapid', 'hesam555', 2158, 'ketamin', 2048, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Bd3,Bg6,Nf3,c5,Bxg6,hxg6,Be3,Qb6,Rb1,Nc6,O-O,Nh6,Na4,Qc7,Nxc5,Bxc5,dxc5,Nxe5,Nxe5,Qxe5,Bd4,Qc7,Bxg7,Rh7,Bxh6,Rxh6,h3,Qxc5,c3,O-O-O,Qd4,Qa5,b4,Qb6,Qxb6,axb6,Rfc1,b5,Ra1,Rd6,a4,bxa4,Rxa4,Rh4,Ra8+,Kc7,b5,Rc4,Rf8,Rd7,g4,Kb6,f3,Kxb5,h4,d4,Rb1+,Kc5', 'Rc8+,Kd5,Rb5+,Kd6,Rxc4', 'https://lichess.org/training/t2Uv4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t2vbL', 'Blitz', 'prinz12341234', 1620, 'mars23', 1981, 'e4,e5,Nf3,Nc6,Bb5,Bc5,d3,Nf6,O-O,d6,Bg5,O-O,Nc3,Be6,Qd2,a6,Ba4,b5,Bb3,Bg4,Nd5,Bxf3,gxf3,Nd4,Nxf6+,gxf6,Bh6,Nxf3+,Kh1,Nxd2,Rg1+,Kh8,Bg7+,Kg8,Bh6+,Kh8', 'Bg7+,Kg8,Bxf6#', 'https://lichess.org/training/t2vbL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T2VDv', 'Rapid', 'Anaclaracxt', 1810, 'Reinaldorfj1', 1899, 'd4,Nf6,Bg5,g6,Bxf6,exf6,c4,Bg7,Nf3,O-O,g3,d5,cxd5,Qxd5,Bg2,Nc6,O-O,Qd6,e3,Bd7,Nc3,Ne7,Qb3,Rab8,Rad1,a6,Nd2,c5,dxc5,Qxc5,Nde4,Qc7,Rd2,Be6,Qc2,b5,Rc1,Rbc8,a3,Qb8,Qb1,Rfd8,Rxd8+,Rxd8,h3,Bc4,Nc5,Qb6,b4,Nc6,Rd1,f5,Rxd8+,Nxd8,Nd5,Qd6,Nf4,g5,Nh5,Qg6,Nxg7,Kxg7,Qb2+,Kg8,Qe5,Qg7,Qe8+,Qf8,Qxf8+,Kxf8,Nxa6,Ke7,Nc5,Ne6,Nxe6,fxe6,f4,h6,Kf2,Kd6,g4,fxg4,hxg4,e5,f5,Bb3,Ke2,Bc4+,Kd2,Ba2,Kc3,Bb1,Bb7,e4,Kd4,Bd3,Bxe4,Be2,Bb7,Bxg4,Be4,h5,Kd3,Ke5,Bc6,Bxf5+,Ke2,g4,Bxb5,Be4,Kf2,h4,Bf1,g3+,Kg1,Bf5,Kg2,Ke4,b5,Kxe3,b6,Kf4,b7', 'Be4+,Kh3,Bxb7', 'https://lichess.org/training/T2VDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t2yd2', 'Rapid', 'Codef', 1861, 'nazar3377', 2101, 'e4,c5,Nc3,Nc6,h3,Nf6,Nf3,d5,exd5,Nxd5,Ne4,e5,Bb5,Qc7,O-O,Bd7,d3,Be7,Re1,O-O,c4,Nf6,Nxf6+,Bxf6,Bd2,a6,Bxc6,Bxc6,Bc3,Rfe8,Rc1,Rad8,b4,cxb4,Bxb4,e4,Nh2,Rxd3,Qe2,a5,Bd2,Red8,Nf1,h6,Be3,Bc3,Rxc3,Rxc3,Ng3,Rcd3,Nf5,Qe5,Qg4,Bd7,Nxh6+,Kf8,Qh4,Rxe3', 'Qxd8+,Qe8,Qxe8+', 'https://lichess.org/training/t2yd2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T2YTl', 'Rapid', 'gui51', 1792, 'freeman33', 1647, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Bd3,Nc6,O-O,O-O,Re1,Bg4,h3,Bh5,Qe2,Ne5,Qe4,Nxf3+', 'gxf3,Bg6,Qxe7', 'https://lichess.org/training/T2YTl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T2Zjk', 'Rapid', 'TSFankara', 2436, 'harut2000', 2402, 'e4,c5,Nc3,d6,g3,g6,Bg2,Bg7,d3,Nc6,Be3,e6,Qd2,Rb8,a4,a6,f4,Nge7,Nf3,Nd4,e5,dxe5,Ne4,exf4,Bxf4,Nxf3+,Bxf3,e5,Bh6,Bxh6', 'Nf6+,Kf8,Qxh6#', 'https://lichess.org/training/T2Zjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t30x5', 'Blitz', 'Babaorum88', 2505, 'FM ErgRaider', 2513, 'd4,d5,c4,e6,Nf3,c5,cxd5,exd5,g3,Nc6,Bg2,Nf6,O-O,Be7,dxc5,Bxc5,a3,O-O,b4,Be7,Nc3,Bg4,Bb2,Rc8,Rc1,Qd7,Nb5,Ne4,Nbd4,Bxf3,Nxf3,Rfd8,Qb3,Qf5,Rfd1,d4,b5,Na5,Qa4,b6,Bxd4,Nc5,Bxc5,Bxc5,e3,h6,Nd4,Bxd4,Rxc8,Rxc8,exd4', 'Rc4,Qxc4,Nxc4', 'https://lichess.org/training/t30x5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T32Cv', 'Blitz', 'avenger33', 2082, 'Neuron4', 2084, 'd4,c6,e3,d5,f4,Nf6,Nf3,Bg4,Nbd2,e6,Bd3,c5,c3,c4,Bc2,Bd6,O-O,Nc6,Qe1,O-O,Ne5,Bf5,e4,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Bxe5,fxe5,Qd5,Qh4,Rfd8,Rf3,Rd7,Rh3,h6,Rg3,f6,Bxh6,fxe5,Qf6,Rf8', 'Rxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/T32Cv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T34ws', 'Rapid', 'mirella13', 1735, 'Foma161', 1722, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,d5,d3,Bb4+,c3,Bxc3+,Nxc3,O-O,Ng4,Nxc3,bxc3,Re8,Ne5,Nc6,Nxc6', 'Rxe2+,Bxe2,bxc6', 'https://lichess.org/training/T34ws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t35CZ', 'Blitz', 'IM Alambique_veloz', 2452, 'VladimirRukavishnik', 2420, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e4,e5,d4,exd4,Nxd4,O-O,f3,c6,Be2,Re8,Nb3,d5,cxd5,cxd5,exd5,Nbd7,O-O,Nb6,Bb5,Bd7,d6,Nfd5,Nxd5,Bxb5,Ne7+,Kh8,Re1,Nc4,Bf4,Nxb2,Qd5,Nd3,Qxb5,Nxe1,Rxe1,Qb6+,Qxb6,axb6,Nd2,Bf6,Nc4,Kg7,Nxb6,Rxa2,Nd7,Bd4+,Be3,Bxe3+,Rxe3,Rea8,Nd5,Rd2,N7f6', 'Ra1+,Re1,Rxe1#', 'https://lichess.org/training/t35CZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T35q2', 'Rapid', 'Juan_1990', 1695, 'sybateni', 1690, 'e4,e6,Nc3,Nc6,Nf3,d5,exd5,exd5,Bb5,Qd6,d4,Bg4,h3,Bh5,O-O,O-O-O,Re1,Nf6,g4,Nxg4,hxg4,Bxg4,Bxc6,Qxc6,Bf4,Bd6,Bxd6,Rxd6,Qd3,Rg6,Kf1,Bh3+,Ke2,Re8+,Kd2,Rg2,Rxe8+,Qxe8,Ne5,Rxf2+,Ne2,g6,Qxh3+,Kb8,Qd7,Qh8,Nxf7,Qxd4+,Ke1,a6,Qd8+,Ka7,Qxc7,Rg2,Nd6,Qh4+,Kd2,Qd4+,Kc1', 'Qe3+,Kb1,Rg1+,Nc1,Qxc1#', 'https://lichess.org/training/T35q2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t36x1', 'Blitz', 'variate67', 2066, 'estrellatus', 1570, 'd4,g6,c4,Bg7,Nc3,d6,e4,Nf6,f4,Bg4,Qb3,b6,e5,dxe5,fxe5,Qxd4,exf6,Bxf6,h3', 'Bh4+,g3,Bxg3#', 'https://lichess.org/training/t36x1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T38zp', 'Rapid', 'qwerty1988', 1609, 'CIA__Student1', 2002, 'e4,g6,Nf3,Bg7,d4,d6,c4,Nf6,Nc3,O-O,Bd3,Na6,a3,e5,d5,Nc5,Bc2,a5,O-O,Nh5,Bg5,Qe8,b4,axb4,axb4,Rxa1,Qxa1,Na6,b5,Nc5,Qa5,f6,Be3,b6,Qa7,Rf7,Bxc5,bxc5,Qa5,f5,b6,cxb6,Qxb6,Bf8,Ng5,Rb7,Qc6,Qe7,Qxc8,Rb2,Ne6,Rxc2,Nb5,Rxc4,f3,Kf7,Ra1,Qe8,Ra7+,Be7,Qc7,Rc1+,Kf2,Rc2+,Ke3,Re2+,Kxe2,Qxb5+,Kf2,Qb2+,Ke3,Qc3+,Ke2,Qc2+,Ke1,Qc1+,Ke2,Qc2+,Ke3', 'f4+,Nxf4,exf4#', 'https://lichess.org/training/T38zp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3c11', 'Rapid', 'abhivoss', 1660, 'SandroAntonio', 1646, 'e3,e5,d4,e4,c4,d5,Nc3,c6,cxd5,cxd5,Bb5+,Nc6,Nge2,Nf6,O-O,Bd6,h3,O-O,Qb3,Be6,Nf4,Bxf4,Bxc6,Bh2+,Kxh2,Qd6+,Kg1,bxc6,Qc2,Qd7,Na4,Bxh3,Nc5,Qg4,f3,exf3', 'Rxf3,Bxg2,Qxg2', 'https://lichess.org/training/t3c11');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T3cfH', 'Rapid', 'NoLogicOne', 2031, 'shriram027', 1990, 'e4,c5,d4,cxd4,c3,d6,cxd4,Nf6,Nc3,e6,Nf3,Be7,Bb5+,Nbd7,e5,Nd5,Nxd5,exd5,exd6,Bxd6,Bg5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/T3cfH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3FcV', 'Rapid', 'Podemode', 1724, 'WuffitheBoss', 1728, 'e4,c5,Nc3,Nc6,g3,e6,Bg2,Nf6,Nge2,d5,exd5,exd5,d4,c4,O-O,Bb4,Re1,O-O,a3,Ba5,Bg5,Be6,Nf4,h6,Bxf6,Qxf6,Nfxd5,Bxd5,Nxd5,Qxd4,Ne7+,Kh8,Qxd4,Nxd4,Red1,Ne2+,Kh1,Rfe8,Nf5,Re5,Nd6,Re6,Nxc4,Bc7,Bd5,Re7,Re1,Rae8,Ne3,Nd4,Rad1,Nf5,Bxb7,Bb6,Bc6,Nxe3,fxe3,Rc8,Ba4,Rc4,Bb3,Rce4,Rd3,f6,c3,Bxe3,Rd8+,Re8,Rxe8+,Rxe8,Kg2,Re7,Rd1,Bb6,Rd2,g5,Kf3,Kg7,Re2', 'g4+,Kxg4,Rxe2', 'https://lichess.org/training/t3FcV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3Fe3', 'Rapid', 'Kremrolle', 1607, 'Ayushmaan2004', 1664, 'e4,c5,Nf3,d6,Bc4,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qc3,dxe5,Nxe5,Bg7,Nxc6,bxc6,Qb3,O-O,O-O,Qd6,Nc3,Ng4,g3,Rb8,Qa4,Bb7,Bf4,e5,Rad1,Qf6,Ne4,Qe7,Bd2,Kh8,Bb4,c5,Bxc5,Qc7,Bxf8,Bxf8,Qxa7,Kg7,Bd3', 'Ra8,Qxa8,Bxa8', 'https://lichess.org/training/t3Fe3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T3Fhw', 'Blitz', 'SlakterT', 1586, 'chee83', 1529, 'd4,d5,Bf4,c6,e3,Bf5,Nf3,e6,c3,Nd7,Nbd2,Ngf6,Be2,Be7,O-O,O-O,Ne5,Nxe5,Bxe5,Bd6,Nf3,Bxe5,Nxe5,Nd7,Nxd7,Qxd7,Bd3,Bxd3,Qxd3,Rae8,c4,dxc4,Qxc4,Qd5,Rac1,Rc8,b3,b5,Qc5,a5,e4,Qxc5,Rxc5,Rfd8,Rd1,Rd6,e5,Rd5,Kf1,Kf8,Ke2,Ke7,Ke3,f6,f4,Kd7,Rdc1,Rc7,Rxd5+,cxd5,Rc5,Rxc5,dxc5,Kc6,Kd4,a4,b4,fxe5+,fxe5,h5,h3,g5,Ke3,Kd7,Kf3,Kc6,h4,gxh4,Kf4,d4,Ke4,d3,Kxd3,Kd5,a3,Kxe5,Ke3,Kd5,Kf4,e5+,Kg5,e4,Kxh4,e3,Kg3,Kd4,c6,e2', 'Kf2,Kd3,Ke1', 'https://lichess.org/training/T3Fhw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3fjv', 'Rapid', 'TheDonimator', 2035, 'Salahexe', 1934, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,cxd4,axb4,dxc3,Nf3,cxb2,Bxb2,Nc6,b5,Nce7,Bd3,Nh6,Ng5,Nhf5,g4,Nh4,Nf3,Ng2+,Kf1,Nf4,Qd2,Neg6,h4,h5,g5,Qb6,Bd4,Qc7,b6,Qc6,Rxa7,Rb8,Be3,Nxd3,cxd3', 'd4,Ke2,dxe3', 'https://lichess.org/training/t3fjv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3jAw', 'Rapid', 'Merpicjusz', 1889, 'Thanajun', 1884, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Bg5,Bb4+,Nbd2,Nge7,a3,Bxd2+,Qxd2,O-O,Bxe7,Qxe7,Nxd4,Qxe5,Nf3,Qf6,e3,Bg4,Be2,Rfd8,Qc3,Qxc3+,bxc3,Bxf3,Bxf3,Ne5,Bxb7,Rab8,Bd5,c6,Be4,Nxc4,O-O,Nd2,Rfd1,Nxe4,c4,Rxd1+,Rxd1,g6,f3,Nf6,Kf2,Kg7,g4,h6,Kg3,Rb3,Rd6,Rxa3,Rxc6,a5,e4,Ra1,Ra6,a4,c5,a3,c6,a2,c7,Rg1+,Kf2,a1=Q', 'Rxa1,Rxa1,c8=Q', 'https://lichess.org/training/t3jAw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T3LBO', 'Rapid', 'piyush12356', 1661, 'MikailArslan', 1610, 'd4,c5,d5,d6,e4,Nf6,Bd3,g6,Be3,e6,dxe6,Bxe6,b3,Bg7,c3,O-O,Nf3,Nc6,Ng5,Bd7,Bc4,d5,exd5,Ne5,Bxc5,Re8,O-O,Nxc4,bxc4,b6,Bd6,Bg4,f3,Bf5,Bf4,Nh5,Bd2,Bd3,Rf2,Bxc4,d6,Qxd6,a4,Bxc3', 'Nxc3', 'https://lichess.org/training/T3LBO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3Lhs', 'Classical', 'nimaa1384', 1948, 'sharkema', 1691, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,cxd4,Nxd4,e5,Nf3,Qxd1+,Kxd1,Bg4,Nd2,O-O-O,b3,Nf6,Re1,Bc5,Re2,Bd4,Rb1,Bc3,h3,Bh5,Bb2,Bxd2,Rxd2,Rxd2+,Kxd2,Nxe4+,Ke3,Bxf3,gxf3,Ng5,Bxe5,f6,h4,Nxf3,Bxf6,Rf8,Bxg7,Rf7,Bc3,Nxh4,Rd1,h5,Ba5,b5,Rd6', 'Nf5+,Kf4,Nxd6+', 'https://lichess.org/training/t3Lhs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3MJj', 'Classical', 'alex1976al', 1825, 'popeio3', 1802, 'd4,f5,Nc3,d5,Bf4,Nc6,Nb5,e5,Bxe5,Nxe5,dxe5,Be6,Nf3,c5,e3,c4,Nbd4,Qd7,b3,Bb4+,Nd2,Bf7,a3,Bc3,Ra2,Ne7,Ne2,Bxe5,Nf3,Bc7,Nfd4,O-O,Ng3,Rad8,c3,f4,Nge2,Ng6,g3,fxe3,fxe3,Rfe8,Qd2,Ne5,bxc4,dxc4,Nf4,Bb6,Qc2,Bxd4,cxd4,Nf3+,Kf2,Ng5,Bxc4,Bxc4,Qxc4+,Kh8,h4,Ne4+,Kf3,Nf6,Re1,Qg4+,Kg2,Ne4,Rc2,Qxg3+,Kf1,Qf3+,Kg1,Qg3+,Ng2,Nf6,Qc5,Ng4,Qg5,Qh2+,Kf1,Rf8+,Ke2,Qxg2+,Kd3,Nf2+,Rxf2,Qxg5', 'Rxf8+,Rxf8,hxg5', 'https://lichess.org/training/t3MJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3O8r', 'Blitz', 'Devarajpilathara1', 1798, 'Aliftampan', 2061, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,Re1,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,d3,Qf6,Bxc6+,bxc6,Nbd2,h5,Re3,h4,Nf1,h3,Kh2,Kd7,Ng3,Be7,Bd2,Qf4,d4,Bg5,dxe5,Bxf3,Rxf3,Qxd2,Rxf7+,Ke6,Rxc7', 'Qxf2+,Kh1,Qg2#', 'https://lichess.org/training/t3O8r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T3OCV', 'Blitz', 'kipshidze10', 1734, 'aymangaid', 1682, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,Nc3,Be6,Nge2,Bd6,d3,O-O,Nf4,Re8,O-O,d4,Nxe6,fxe6,Ne2,c5,a3,Nc6,Ng3,Kh8,Bg5,Rf8,Ne4,Be7,Bxf6,Bxf6,Nxc5,Qd6,Nxe6,Rfe8,Qg4,Ne5,Qh3,Rac8,f4,Ng6,Ng5,Bxg5,fxg5,Nf4,Qg4,Ne2+,Kh1,Rcd8,g6,Qxg6,Qxg6,hxg6,Rf7,Rb8,Raf1,g5,Rd7,Nf4,g3,Nh3,Rff7,g4,Rxg7', 'Re1+,Kg2,Rg1#', 'https://lichess.org/training/T3OCV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T3owy', 'Rapid', 'samirchess', 1710, 'CalDerIlla', 1704, 'd4,Nf6,Bf4,e6,e3,h6,h4,d5,Bd3,b6,Nf3,Nbd7,Ne5,Nxe5,dxe5,Ne4,Nd2,Bb7,c3,f6,exf6,Qxf6,Qa4+,c6,Nxe4,dxe4,Bxe4,e5,Bg3,b5,Qa5,Bd6,Rd1,O-O,b4,Rf7,a4', 'Bc7,Qxc7,Rxc7', 'https://lichess.org/training/T3owy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3RrN', 'Blitz', 'bonn86', 2416, 'FM franksa', 2407, 'Nc3,d5,e4,c6,Nf3,Nf6,Qe2,dxe4,Nxe4,Nxe4,Qxe4,Nd7,Bc4,Nf6,Qe2,Bf5,d3,e6,Bd2,Be7,h3,O-O,g4,Bg6,Ne5,b5,Bb3,c5,h4,c4,dxc4,bxc4,Bxc4,Bxc2,g5,Nd5,Rc1,Ba4,b3,Be8,h5,Bxg5,Rg1,Bxd2+,Qxd2,Qf6,Ng4,Qf4,h6,Qxd2+,Kxd2,g6,Bxd5,exd5,Nf6+,Kh8,Rc7,a5,Re1,a4,Ree7,axb3,axb3,d4,b4,Rd8,b5,Rb8,Rb7,Rxb7,Rxb7,Bxb5,Rxb5,g5,Re5,g4,Re8,Rxe8,Nxe8,f5,Kd3,f4,Nf6', 'g3,Ne4,g2', 'https://lichess.org/training/t3RrN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T3SBj', 'Rapid', 'omidomidi', 1820, 'Sta-s', 1704, 'd4,c6,Bf4,d5,e3,Nf6,h3,Bf5,Bd3,Bxd3,Qxd3,e6,Nd2,a6,c4,Nbd7,c5,b6,b4,a5,cxb6,Nxb6,bxa5,Rxa5,Qc3,Qa8,Bc7,Na4', 'Qxa5,Qxa5,Bxa5', 'https://lichess.org/training/T3SBj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T3sPE', 'Blitz', 'Sonyejin', 2014, 'anishravindra', 2054, 'd4,d5,Nf3,c6,c3,e6,Bg5,f6,Bh4,Nd7,Nbd2,Ne7,e4,g6,Qc2,Bg7,Bd3,O-O,O-O,e5,exd5,cxd5,Rfe1,e4,Nxe4,dxe4,Bc4+,Kh8,Qxe4,Nf5,Be6,Nxh4,Nxh4,Nb6', 'Nxg6+,hxg6,Qh4+,Bh6,Qxh6#', 'https://lichess.org/training/T3sPE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T3sTq', 'Bullet', 'Magnuspamirec', 1956, 'ahmedgesmalseed', 1961, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,d4,Nge7,Bd3,Nf5,Bxf5,exf5,c3,Be6,O-O,h6,Nbd2,Be7,Re1,O-O,Nf1,b5,Be3,b4,cxb4,cxb4,Qe2,Qb6,Ng3,a5,Nh5,Rfc8,Qf2,Bf8,Qg3,Ne7,Qh4,Ng6,Qh3,Rc2,Nh4,Nxh4,Qxh4,Rxb2,Bf2,Rc8,Re3,Rcc2,Rf1,Qxd4,Rf3,Qd2,Rg3,Rc3', 'Nf6+,Kh8,Qxh6+,gxh6,Rg8#', 'https://lichess.org/training/T3sTq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T3Uhx', 'Classical', 'jeanved', 1766, 'adpaiz', 1832, 'd4,e6,Nf3,c5,c3,Nc6,d5,exd5,Qxd5,Nf6,Qb3,h6,e3,a6,Bc4,d5,Be2,c4,Qc2,Bd6,Nd4,O-O,Nd2,Re8,b3,b5,Nxc6,Qc7,Nd4,Bxh2,a4,bxa4,bxc4,dxc4,Rxa4,Bd7,Rxc4,Qd6,Qa2,Be5,N4f3,Be6,Nxe5,Qxe5,Qb3,Bxc4,Bxc4,Re7,Ba3,Rd7,Nf3,Qc7,Bb2,a5,O-O,a4,Qa3,Qxc4,Ne5,Qd5,Nxd7,Qxd7,Qc5,Qd2,Ba3,Ne4', 'Qc6,Rb8,Qxe4', 'https://lichess.org/training/T3Uhx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T3Ul8', 'Blitz', 'Jimbo18', 2236, 'spilzzz', 2317, 'd4,e6,c4,f5,Nc3,Nf6,Nf3,Bb4,Qb3,a5,a3,Bxc3+,Qxc3,a4,g3,b6,Bg2,Bb7,O-O,O-O,Bg5,d6,Rac1,Nbd7,Rfd1,Qe8,Bxf6,Nxf6,c5,Ne4,Qc2,bxc5,dxc5,Bd5,cxd6,cxd6,Nd2,Nxd2,Qxd2,Bxg2,Kxg2,Ra6,Rc7,h6,Rdc1,Qb5,e3,Rf7,Rxf7,Kxf7,Rc7+,Kg8,Qc3,e5,Rc8+,Kh7,Qc2,Qd7,Rc7,Qe6,Rc4,Qd7,Rc7,Qe6,f3,Rb6,g4,Kg6', 'gxf5+,Qxf5,Rxg7+,Kxg7,Qxf5', 'https://lichess.org/training/T3Ul8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3w66', 'Blitz', 'Moelli-e6', 2143, 'tkillasunrise', 2173, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Be2,g6,Nc3,Bg7,Nb3,Nf6,O-O,O-O,Bg5,h6,Bf4,Kh7,Re1,Be6,Qd2,Rc8,Bf1,Nd7,Rad1,Nde5,Nd5,Bxd5,exd5,Nb8,Nd4,Nc4,Bxc4,Rxc4,c3,Nd7,b3,Rc8,c4,a6,Nf3,b5,cxb5,Bc3,Qe3,Bxe1,Rxe1,axb5,Bxh6,Rh8,Ng5+,Kg8,Nxf7,Kxf7', 'Qe6+,Ke8,Qxg6#', 'https://lichess.org/training/t3w66');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3X80', 'Classical', 'sia74400', 1679, 'GaffMasters', 1656, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,d6,h3,h6,Bh4,a6,Bd5,Bd7,O-O,g5,Bg3,Qe7,Nc3,g4,hxg4,Nxg4,Bh4,f6,Bxc6,Bxc6,Nxe5,Nxe5,Qh5+,Kd7,Qf5+,Ke8,Bxf6,Qf7', 'Bxh8,Qxf5,exf5', 'https://lichess.org/training/t3X80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t3yUc', 'Rapid', 'slrn84', 2053, 'Filip70', 1963, 'd4,d5,c4,dxc4,e3,a6,Bxc4,c6,Nf3,h6,Nc3,Nf6,O-O,Bg4,h3,Bh5,e4,e6,Qd3,Bxf3,Qxf3,Qxd4,Bb3,Bb4,Rd1,Qb6,Be3,Qc7,Na4,Nbd7,a3,Ba5,Bf4,Qc8,Rd3,O-O,Rad1,Rd8,Bc2,b5,Nc5,Nxc5,Rxd8+,Bxd8,e5,Nd5,b4,Nxf4,Qxf4,Na4,Qe4,g6,Rd6,Ra7,Qd4,Be7', 'Qxa7,Bxd6,exd6', 'https://lichess.org/training/t3yUc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t40tH', 'Blitz', 'Tolya52', 1839, 'Hike-13', 1814, 'c3,c5,Qa4,Nc6,g4,d5,d3,e5,Nd2,h6,Bg2,Nf6,h3,Bd6,Nf1,Bd7,Qc2,Rc8,g5,hxg5,Bxg5,Bf5,Ng3,Bg6,Bxd5,Be7,Bg2,c4,Bxf6,cxd3,Qb3,Bxf6,Qxb7,d2+,Kd1,Nd4,cxd4,Bc2+,Kxd2,Qxd4+,Ke1,O-O,Nf3,Qc5,Kf1,e4,Nxe4,Bxe4,Qxe4,Bxb2,Rd1,Rfd8,Rxd8+,Rxd8,Ne1,Qc1,Bf3,Rd1,Qe8+,Kh7,Be4+,g6,Kg2,Qg5+,Kf1', 'Rxe1+,Kxe1,Qc1#', 'https://lichess.org/training/t40tH');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 32;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet33 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T417w', 'Classical', 'FENER14', 1816, 'Yozaman', 1734, 'e4,c5,d4,cxd4,c3,d3,Bxd3,Nc6,Nf3,d6,Nd4,Bd7,O-O,Nf6,Be3,g6,Nd2,Bg7,f4,Ng4,Qf3,Nxe3,Qxe3,Qb6,Nc4,Bxd4,cxd4,Qxd4,Qxd4,Nxd4,e5,dxe5,Nxe5,Be6,Rad1,Nf5,Bxf5,Bxf5,g4,Bc8,f5,gxf5,gxf5,f6,Nc4,O-O,Rf3,Kh8,Ne3,b6,Kf2,Bb7,Rh3,Rac8', 'Rd7,Rfe8,Rxb7', 'https://lichess.org/training/T417w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t41cK', 'Blitz', 'vlgalindo', 1924, 'dbutman', 1917, 'e3,Nf6,d4,e6,f4,d5,Bd3,Nbd7,Nf3,c5,c3,Qb6,Nbd2,c4,Bc2,Qc7,Ne5,Be7,O-O,g6,Qe1,a5,Qg3,Nh5,Qh3,Ndf6,g4,Ng7,Qh6,Bf8,Qh4,Be7,Qh6,Bf8,Ndf3,Nf5,Qh3,Nd6,Ng5,h5,Qh4,Be7,Bd2,Nfe4,Bxe4,Nxe4,Rad1,Bd7,Nexf7,Rg8,f5,gxf5,Qxh5,Nxg5,Nxg5+,Kd8,Nf7+,Kc8,Ne5,Kb8,Qf7,Qd8,Nxd7+,Ka7,Nc5,Rxg4+,Kh1,Bxc5,dxc5,Qh8,Rg1', 'Qxh2+,Kxh2,Rh8+,Qh7,Rxh7#', 'https://lichess.org/training/t41cK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t41Wt', 'Rapid', 'Horac', 2053, 'djbrownsound', 2233, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Nb3,Bb4+,c3,Be7,Be3,d5,N1d2,dxe4,Nxe4,Nd5,Bc5,f5,Bxe7,Qxe7,Ned2,e5,O-O,O-O,Re1,Nf4,Bc4+,Be6,Bxe6+,Nxe6,Nc4,Rad8,Qc2,e4,Rad1,Nf4,Rxd8,Rxd8,Rd1,Nd3,Qe2,Qe6,Ne3,f4,Nc2,f3,gxf3,Qg6+,Kf1,exf3,Qxf3,Nce5,Qxb7,Rf8,Rd2,Nf4,Ne3,Ng4,Nxg4', 'Qb1+,Nc1,Qxc1+,Rd1,Qxd1#', 'https://lichess.org/training/t41Wt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t44yt', 'Blitz', 'metehandalkir', 1854, 'DerSchacher', 1831, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,c6,Bd3,Bg4,O-O,Bxf3,Qxf3,Qxd4,Be3,Qg4,Be2,Qxf3,Bxf3,e6,Rad1,Be7,Nb5,Na6,Nd6+,Bxd6,Rxd6,O-O,Rfd1,h6,a3,Nb8,g4,g5,h4,gxh4,Bxh6,Re8,Bg5,Nd5,c4,Ne7,Bxh4,Ng6,Bf6,Na6,b4,Nc7,Rd7,Rac8,Bd4,e5,Bxa7,e4,Bg2,Nf4,Bb6,Nce6,Bxe4,Ng5,Bf5,Nf3+,Kf1,Nh2+,Kg1,Nf3+,Kh1,Kg7,Be3', 'Rh8+,Bh7,Rxh7#', 'https://lichess.org/training/t44yt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T46cr', 'Classical', 'tondar13881612', 2077, 'Alborz87', 1879, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Bc4,e6,N1e2,Bd6,O-O,Qc7,f4,Nf6,Bd3,Bxd3,Qxd3,O-O,f5,exf5,Qxf5,c5,Bg5,Nbd7,Bxf6,Nxf6,Qg5,cxd4,Rxf6,Be7,Nh5,Bxf6,Nxf6+,Kh8,Nh5,f6,Qg4,Rf7,Nxd4,Qb6,b3,Rd8,c3,Qc5,Rc1,g6,Nf4,Rxd4,cxd4,Qxc1+,Kf2,Qd2+,Kf1,Qc1+,Kf2,Qc2+,Ne2,Qxa2,Qe6,Kg7,Qe3,Qa3,Nf4,Re7,Qc3,Qd6,g3,Rd7,d5,Qb6+,Kg2,Kf7,Qc4,Qd6,Qe4,Qe5,Qc4,Ke8,Qc8+,Ke7,Qc5+,Qd6,Qe3+,Qe5,Qc5+,Qd6,Qe3+,Kf7,Qe4,Re7,Qd3,f5,Qd4,b6,Ne6,Ke8', 'Qh8+,Kd7,Qd8#', 'https://lichess.org/training/T46cr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t4alc', 'Classical', 'Igor5225', 1643, 'vamshi11', 1671, 'e4,c5,Nf3,Nc6,Bb5,e6,O-O,Nge7,Re1,g6,c3,Bg7,d4,cxd4,cxd4,d5,exd5,Nxd5,Bg5,Qb6,a4,O-O,Bxc6,Qxc6,Ne5,Qc7,Nd2,f6,Rc1,Qb6,Nec4,Qxd4,Be3,Nxe3,Nxe3,Rd8,Nf3,Qxd1,Rcxd1,Rxd1,Rxd1,Kf7,Rd8,b6,Nc4,Ke7,Rg8,Kf7', 'Rxc8,Rxc8,Nd6+,Ke7,Nxc8+,Kd7,Nxa7', 'https://lichess.org/training/t4alc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t4CU5', 'Blitz', 'aksti', 2050, 'FM Majasystem', 2458, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,O-O,Bb3,d5,exd5,Nxd5,O-O,Nf4,Bc2,Qf6,Be3,Bd6,Nbd2,Bg4,Ne4,Qg6,d4,Nxg2,Ng3,f5,dxe5,Nxe3,fxe3,Nxe5,Qd5+,Kh8', 'Nxe5,Bxe5,Qxe5', 'https://lichess.org/training/t4CU5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T4dzq', 'Blitz', 'FrenchPlay', 1949, 'Artioucha', 2317, 'd4,Nf6,b3,c5,d5,e6,c4,exd5,cxd5,d6,Bb2,Be7,Nf3,O-O,Nc3,a6,e4,b5,Bd3,Bg4,O-O,Nfd7,h3,Bxf3,Qxf3,Ne5,Qe2,Nxd3,Qxd3,Bf6,f4,Nd7,Rae1,Qb6,Kh1,Rac8,e5,dxe5,fxe5,Bxe5,Qf5,Qd6,Ne4,g6,Bxe5,Nxe5,Nf6+,Kg7,Qxe5,Qxe5,Rxe5,c4,Nd7,Rfd8,Re7,c3,Rexf7+,Kh6,g4,c2,Nf6,c1=Q', 'Rxh7+,Kg5,h4#', 'https://lichess.org/training/T4dzq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T4ePc', 'Rapid', 'dano63', 1720, 'ccchessling', 1863, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bg5,e6,Nf3,Nc6,e3,Be7,a3,O-O,Bd3,b6,O-O,a5,Bb5,Qc7,Bxc6,Qxc6,Rc1,Qd7,Ne5,Qe8,Qa4,Bd7,Nxd7,Nxd7,Bxe7,Qxe7,Nb5,Rfc8,Rc3,Nf6,Rfc1,Rxc3,Rxc3,Ne4,Rc7,Qd8,Qc2,h6,Qc6,Rb8,f3,Nd2,Nd6,Qg5,Rxf7', 'Qxe3+,Kh1,Qe1#', 'https://lichess.org/training/T4ePc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T4f1o', 'Rapid', 'sabermostafa', 1641, 'b_hi_no_lie', 1660, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb3,b5,a3,Qe7+,Qe2,Qxe2+,Kxe2,c4,Ba2,Bg4,Re1,Be7,h3,Be6,Nd4,a6,Nc3,Bd7,Kf1,Nf6,d3,Nc6,Nxc6,Bxc6,dxc4,dxc4,b3,Bd5,bxc4,Bxc4+,Bxc4,bxc4,Bg5,Kf8,Nb1,h6,Bh4,g5,Bg3,Re8,Nd2,Rc8,c3,Bc5,Be5,Be7,Ne4,Kg7,Rab1,Rc6,Rb7,Re8,Nd6,Bxd6', 'Bxf6+,Kf8,Bg7+,Kxg7,Rxe8', 'https://lichess.org/training/T4f1o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T4hsh', 'Blitz', 'bobby711', 2130, 'BobbyF22', 1805, 'd4,Nf6,Nf3,e6,c4,b6,Nc3,Bb4,Qb3,Bxc3+,Qxc3,Ne4,Qc2,d5,Bf4,O-O,g3,Ba6,cxd5,exd5,Qxc7,Qf6,Qe5,Qd8,Bg2,Nc6,Qc7,Qf6,Rc1,Rfe8,Rxc6,Nxg3,hxg3,Rxe2+,Kd1,Qf5,Re1,Qb1+,Rc1,Qd3+,Bd2,Rxe1+,Nxe1,Re8,Bf3', 'Rxe1+,Kxe1,Qf1#', 'https://lichess.org/training/T4hsh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t4JdQ', 'Classical', 'Tizian5', 1970, 'Storkers1', 1956, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Bf4,Qb6,b3,Nc6,c3,Bd7,Nd2,Nxd4,Be3,e5,cxd4,exd4,Bf4,Bb4,Nf3,O-O,O-O,Bc3,Rb1,Rfe8,Ne5,Qa5,Qc2,Rxe5,Bxe5,Bxd2,Bxf6,Rc8,Bxh7+,Kh8,Qd3,gxf6,Bf5,Rc3,Qxd2,Bxf5,Qh6+,Kg8,Rbe1,Be6,Qxf6,d3,Re5,d2,Rg5+,Kf8,b4', 'Rc1,Rg8+,Kxg8,Qg5+,Kf8,Qxd2,Rxf1+', 'https://lichess.org/training/t4JdQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t4JQW', 'Rapid', 'Illinger', 1835, 'SomethingFischy', 1905, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,c5,dxc5,Bxc5,Bg5,O-O,e3,h6,Bf4,Nc6,Be2,Re8,O-O,e5,Bg3,e4,Nd2,d5,cxd5,Nxd5,Rc1,Bxe3,fxe3,Nxe3,Qb3,Nxf1,Rxf1,Qxd2', 'Qxf7+,Kh7,Qxe8', 'https://lichess.org/training/t4JQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t4jzg', 'Blitz', 'Dizaaa', 1595, 'steenrod', 1617, 'd4,Nf6,Bf4,d6,e3,Bf5,Nd2,e6,c3,Be7,h3,Nc6,Ngf3,O-O,g4,Bg6,Nh4,Nd5,Nxg6,fxg6,Bg3,Bh4,Qb3,Bxg3,fxg3,Nxe3,Qxe6+,Kh8,Qxe3,Re8,Ne4,d5,O-O-O,Rxe4,Qf3,Qe7,Bd3,Rf8,Qg2,Re3,Bb5,a6,Ba4,Re2,Qxd5,Rff2,Bb3,Qe8,Rhf1,Qe3+,Kb1,Rxf1', 'Qg8#', 'https://lichess.org/training/t4jzg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T4Nvu', 'Rapid', 'gnntt', 1685, 'Iveru', 1712, 'e4,d6,f4,c6,Nf3,Qa5,c3,Bg4,d4,h6,Bd2,Qb6,Be2,Qxb2,c4,Qxa1,Bc3,Qxa2,d5,Nf6,dxc6,Nxc6,O-O,Nxe4,Bd3,Bxf3,Qxf3,Nxc3,Nxc3,Qb3,Nd5,O-O-O', 'Bf5+,e6,Qxb3', 'https://lichess.org/training/T4Nvu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t4oEZ', 'Rapid', 'datuna9999', 2114, 'Kinigos', 2198, 'c4,c5,d3,Nf6,Nc3,d5,cxd5,Nxd5,e4,Nb4,a3,N4a6,Nf3,Nc6,Nd5,g6,Bf4,Bg7,d4,Nxd4,Nxd4,Bxd4,Bxa6,bxa6,Nc7+,Kf8,Nxa8,Bb7,Nc7,g5,Bg3,e5,Nd5,Bxd5,exd5,Qxd5,O-O,h5,h3,h4,Bh2,f5,b4,g4,bxc5,Rg8,hxg4', 'Rxg4,Qxg4,fxg4', 'https://lichess.org/training/t4oEZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T4Opg', 'Rapid', 'Soares1973', 1816, 'Locolope23', 1720, 'd4,Nf6,Bf4,d5,e3,e6,Bd3,Bd6,Bg3,c5,c3,O-O,Nf3,Qb6,dxc5,Qxc5,Nbd2,Nbd7,Nb3,Qc7,Bxd6,Qxd6,Qc2,e5,e4,dxe4,Bxe4,Nxe4,Qxe4,Nf6,Qxe5', 'Re8,Qxe8+,Nxe8', 'https://lichess.org/training/T4Opg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t4P5G', 'Blitz', 'Alexfarg89', 1775, 'Kuryuk', 1717, 'c4,e5,Nc3,Nc6,g3,Nf6,Bg2,d6,e3,Bf5,d3,Qd7,Nge2,Bh3,O-O,h5,Nb5,h4,Bxh3,Qxh3,Nxc7+,Kd7,Nxa8,hxg3,fxg3,Ng4,Rf2,Nxf2,Kxf2,Qxh2+,Ke1,Qh1+,Kd2,Qf3,Qb3,b6,Nxb6+,axb6,Qxb6,Ke6,e4,Nd4,Nxd4+,exd4,Qxd4,Rh2+,Kc3,Qe2,Qd5+,Kd7,Qxf7+,Kc6,Qxf8,Qc2+,Kd4,Qg2,Qc8+,Kb6,Qb8+,Kc6,a4,Qf2+,Be3', 'Qf6+,e5,Qxe5#', 'https://lichess.org/training/t4P5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T4QNR', 'Rapid', 'Rad1', 1865, 'Skeleize', 1701, 'd4,d5,e3,e6,Nf3,c5,b3,Nf6,Bb2,Nc6,a4,cxd4,Nxd4,Bc5,Nxc6,bxc6,Be2,O-O,O-O,a5,Nd2,Re8,Nf3,Bd6,Ne5,Qc7,Ng4,Nxg4,Bxg4,Bxh2+,Kh1,Be5,Bxe5,Qxe5,Qe2,Ba6,c4,Rab8,Rab1,Rb4,Qc2,Reb8,Rfc1,f5,Bf3,g5,cxd5,cxd5,Qc6,Bd3,Ra1,Rxb3,Bh5,Qf6,Qd7,R3b7', 'Rc8+,Rxc8,Qxc8+,Kg7,Qxb7+', 'https://lichess.org/training/T4QNR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T4r69', 'Rapid', 'Asikar', 1772, 'assempalm', 1704, 'd4,f5,c4,Nf6,Nc3,g6,Bg5,Nh5,Nf3,Bg7,e3,h6,Bh4,g5,Ne5,Nf6,Nd5,gxh4,Nxf6+,Bxf6', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/T4r69');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T4s5L', 'Rapid', 'iGetsBusySon', 1622, 'Raz_dva', 1809, 'd3,g6,e4,Bg7,d4,d6,Nf3,Nf6,Nc3,O-O,Be3,Re8,Bd3,e5,d5,Rf8,a4,Ne8,b4,f5,b5,f4,Bd2,Nd7,Qe2,Nc5,O-O,Bg4,h3,Bd7,a5,b6,a6,Nxd3,Qxd3,h5,Kh2,Kf7,Na2,g5,Nb4,g4,Ne1,Kg6,f3,Nf6,hxg4,hxg4,Kg1,Nh5,fxg4,Ng3,Rf3,Qh4,Kf2,Bxg4,Bxf4,exf4,c4,Bxf3,Nxf3,Qf6', 'e5+,Qf5,Nh4+,Kg5,Nxf5', 'https://lichess.org/training/T4s5L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T4Sbu', 'Rapid', 'BOUSCASSE', 1668, 'Is_Chess_music', 1664, 'c4,c5,e4,Nc6,Nf3,g6,Nc3,Bg7,Be2,e5,Nd5,Nge7,O-O,O-O,d3,d6,Rb1,a5,a3,h6,Be3,Kh7,Qd2,f5,Qc2,f4,Bd2,g5,h3,Ng6,Nh2,Nd4,Qd1,Nxe2+,Qxe2,Nh4,f3,Be6,Be1,Rg8,Ng4,h5,Bxh4,hxg4,hxg4,gxh4,Kf2,Bxd5,cxd5,Qb6,Ke1,Kg6,Rh1,Rh8,Qf2,Bf6,Kd2,Rh7,Kc2,Rah8,b4,a4,bxc5,Qxc5+,Qxc5,dxc5,Rb6,h3,gxh3,Rxh3,Rxh3,Rxh3,Rxb7,Rxf3,d6,Re3,d7,f3', 'Rb6,Kf7,Rxf6+', 'https://lichess.org/training/T4Sbu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t4Uuz', 'Rapid', 'zdn69', 1628, 'Georgelouis', 1640, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qf3,Qxc6,Nc3,d6,Be3,Nf6,O-O-O,Bg4,Qg3,Bxd1,Qxg7,O-O-O,Qxf6,Bxe3+,fxe3,Bh5', 'Qf5+,Kb8,Qxh5', 'https://lichess.org/training/t4Uuz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T4vuZ', 'Classical', 'DanielC87', 2128, 'samokatchik21', 2076, 'e4,c5,Nf3,d6,Bc4,e6,O-O,d5,exd5,exd5,Re1+,Be7,Bb5+,Bd7,Bxd7+,Qxd7,d4,cxd4,Qxd4,Nf6,Ne5,Qe6,Bd2,Ne4,f3', 'Bc5,Qxc5,Nxc5', 'https://lichess.org/training/T4vuZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t4xFx', 'Rapid', 'Antartida', 1650, 'timusg', 1685, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Bb4,Qc2,O-O,a3,Be7,Be2,h6,O-O,Nbd7,Re1,c5,cxd5,cxd4,Nxd4,Nxd5,Nxd5,exd5,Bd3,Nf6,Nf5,Bxf5,Bxf5,g6,Bd3,Rc8,Qe2,Nd7,b4,Bf6,Bb2,Ne5,Bd4,Nxd3,Qxd3,a6,Bxf6,Qxf6,Qxd5,b5,Qd3,Rcd8,Qe2,Rd6,Red1,Rfd8,Rxd6', 'Qxa1+,Qf1,Qxf1+,Kxf1,Rxd6', 'https://lichess.org/training/t4xFx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t4ZiU', 'Rapid', 'Rajesh6815', 1914, 'Paiinz56', 1889, 'e4,c5,f4,e6,c3,Nf6,d3,d5,e5,Nfd7,Nf3,Be7,Be2,Nc6,O-O,f6,d4,O-O,a3,Qb6,Kh1,a5,h3,a4,Re1,fxe5,fxe5,Na5,Nbd2,cxd4,cxd4,Nb3,Nxb3,axb3,Bd3,Nb8,Bg5,Nc6,Bxe7,Nxe7,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Rf5,Qh7+,Kf8,Qh8+,Ng8,Nh7+,Kf7,Rf1,Qxd4,Rxf5+,exf5,Ng5+,Kf8,e6,Qe5', 'Nh7+,Ke7,Qxg8', 'https://lichess.org/training/t4ZiU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T53KM', 'Classical', 'SrNinguem', 1605, 'fumier', 1629, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,Bc5,O-O,O-O,d4,exd4,cxd4,Bb6,Nc3,d6,d5,Na5,Bd3,c5,a3,c4,Bc2,Re8,Bf4,a6,Nd2,Bg4,Ne2,Nxd5,Be3,Nxe3,fxe3,Bxe3+,Kh1,Qg5,b4,Bxe2,Qxe2,Bxd2,bxa5,d5,Qf2,f6,exd5,Rad8,h4,Qxd5,Qf5,Qxf5,Bxf5,Rd5,Bg6,Re7,Rfd1,Re2,Rab1,Rd7,Rb2,c3,Rc2,Re1+', 'Rxe1,Bxe1,Re2,Rd8,Rxe1', 'https://lichess.org/training/T53KM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t55I5', 'Blitz', 'Grish1233', 1810, 'ac1907', 1794, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Bb7,Be3,Nf6,Bc4,d5,exd5,cxd5,Bxd5,Nxd5,Nxd5,Qxd5,Qxd5,Bxd5,O-O-O,Bxa2,b3,Ba3+,Kd2,Rd8+,Ke2,O-O,Ra1,Bxb3,cxb3,Bb4,Rxa7,f6,Rd1,Rxd1,Kxd1,Rb8,Ra4,Bd6,Kc2,Kf7,Ra6,Ke6,Bc5,Rd8,b4,Kd5,Bxd6,Rxd6,Ra7,Rb6,Rxg7,Rxb4,Rxh7,Ra4,Kd2,Ra2+,Ke3,f5,Rd7+,Ke6,Rd2,f4+,Ke2,Ra1,Kf3,Kf5,g3,Ra3+,Kg2,f3+,Kh3,Ra8,g4+', 'Kf4,Rd6,Rh8+,Rh6,Rxh6#', 'https://lichess.org/training/t55I5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t5aZY', 'Rapid', 'johnjamin', 1697, 'Sori2015', 1697, 'd4,Nf6,c4,d5,Nc3,Bf5,Qb3,c6,Qxb7,Nbd7,Qxc6,e6,Bg5,Rc8,Bxf6,gxf6,Qa6,dxc4,e4,Bg6,Bxc4,Nb6,Bb5+,Ke7,Nf3,Bh6,Qa3+,Qd6,Qxa7+', 'Rc7,Qa5,Ra8,Qxa8,Nxa8', 'https://lichess.org/training/t5aZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5BlU', 'Rapid', 'gespinosaj', 1788, 'R22Cosh', 1795, 'd4,d5,c4,e6,Nc3,c6,Nf3,Nd7,Bg5,Qb6,b3,Bb4,Qc2,Qa5,Bd2,Bxc3,Bxc3,Qc7,e3,Ngf6,Bd3,h6,O-O-O,c5,h3,b6,dxc5,Nxc5,Bxf6,gxf6,Nd4,dxc4,Nb5,Qc6,Bxc4,O-O,f3,f5,Nd6,Rd8,Bb5,Qc7,Nc4,Qe7,Rxd8+,Qxd8,Rd1,Qe7,Ne5,Bb7,Bc6,Bxc6,Nxc6,Qe8,Ne5,Rc8,Kb2', 'Na4+,bxa4,Rxc2+', 'https://lichess.org/training/T5BlU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5BOz', 'Rapid', 'GauchoPancho', 1871, 'TeutoniaWaltrop', 1963, 'd4,Nf6,e3,d6,Nc3,g6,Nf3,Bg7,Be2,Nbd7,Bd2,b6,O-O,Bb7,Re1,O-O,Bf1,c5,dxc5,dxc5,Qe2,Qc7,Rad1,a6,Bc1,Rad8,a3,Ng4,h3', 'Bxf3,hxg4,Bxe2', 'https://lichess.org/training/T5BOz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t5ctV', 'Rapid', 'Hannibal57', 2025, 'gaiedtalaat', 2006, 'Nf3,d5,g3,c5,Bg2,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,c4,Nf6,Qa4,Bd7,Bg5,Be7,Bxf6,Bxf6,Nc3,d4,Ne4,Be7,c5,O-O,O-O,Qc7,b4,a5,Qb3,a4,Qb2,f5,Nd2,Rab8,a3,Bxc5', 'Qa2+,Kh8,bxc5', 'https://lichess.org/training/t5ctV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5DTD', 'Classical', 'teletolumby', 1840, 'nunutmaz', 1733, 'd4,d5,c4,c5,dxc5,Qa5+,Bd2,Qxc5,cxd5,Qxd5,Nc3,Qe6,Nf3,Nc6,e3,h6,Bb5,Bd7,O-O,O-O-O,Bxc6,Bxc6,Nd4,Qg6,Nxc6,Qxc6,Qg4+,e6,Rac1,Kb8,Qf4+,Ka8,Qxf7,Nf6,Ne2,Qa6,Qc7,Bd6,Qc4,Bxh2+,Kxh2,Qd6+,Kg1,Qxd2,Rfd1,Qxb2', 'Rxd8+,Rxd8,Qc8+,Rxc8,Rxc8#', 'https://lichess.org/training/T5DTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5Gl0', 'Rapid', 'dzaniplays4', 1764, 'Canyouteachmechess', 1701, 'd4,e5,d5,Nf6,Nc3,Bb4,Bg5,c6,e4,cxd5,Bxf6,Qxf6,Qxd5,O-O,a3,Bxc3+,bxc3,d6,Bb5,Qg6,g3,Be6,Qxb7,Nd7,Bxd7,Bxd7,Qxd7,Qxe4+,Kf1,Qxh1,Re1,Rfd8,Qf5,Qxh2,Nh3,Qh1+,Ke2,Qc6,Ng5,Qxc3,Qxf7+,Kh8,Qf5,Qc4+,Kd1,Qg8', 'Nf7+,Qxf7,Qxf7', 'https://lichess.org/training/T5Gl0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5Ild', 'Rapid', 'seaweeds', 1683, 'Tamburus', 1678, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Bc4,e6,O-O,b5,Bd3,Qf6,Nc3,Qxd4', 'Bxb5+,axb5,Qxd4', 'https://lichess.org/training/T5Ild');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t5ipZ', 'Rapid', 'EddyDiazGonzalez', 1880, 'Serafim1', 2033, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bf4,Bg4,Be2,Bxe2,Qxe2,e6,Nf3,Bd6,Bxd6,cxd6,Qb5+,Nc6', 'Qxb7,O-O,Qxc6', 'https://lichess.org/training/t5ipZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t5iUM', 'Rapid', 'PracVova', 1956, 'FireRabbit', 2179, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,a6,O-O,Qc7,Nc3,b5,Bg5,Be7,Qe2,d6,Rad1,Bb7,Rfe1,Nbd7,a3,O-O,Kh1,Rac8,f4,Rfe8,f5,e5,Bxf6,Nxf6,Nf3,Bf8,Nd2,d5,exd5,Nxd5,Nxd5,Bxd5,Ne4,f6,Qg4,Kh8,Re3,Bg8,Rg3,Qc6,Rf1,Red8,Rh3,Rd4,Rh4,Rcd8,h3,Bf7,Kh2,a5,Rf3,b4,axb4,axb4,Rg3,b3', 'Rxh7+,Kxh7,Qh4+,Kg8,Nxf6+,Qxf6,Qxf6', 'https://lichess.org/training/t5iUM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5jvw', 'Classical', 'Arman01kz', 1929, 'PROHODIMEC', 1704, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,c6,h3,Bxf3,Qxf3,Qf6,Qe3,Ne7,O-O,h6,b4,Ng6,Ne2,Qe7,d4,f6,Bb2,Nd7,d5,c5,a3,b6,Bb5,Kf7,f4,Qd8,f5,Ne7,Qf3,Rg8,Qh5+,g6,fxg6+,Rxg6,Ng3,Kg7,Nf5+,Nxf5,Rxf5,Qe8,Raf1,a6,Bxd7,Qxd7,Rxf6', 'Rxf6,Rxf6,Kxf6', 'https://lichess.org/training/T5jvw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t5k2T', 'Rapid', 'iliko9', 1842, 'molaki', 1850, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c3,Nf6,Be2,Bg4,O-O,e6,h3,Bxf3,Bxf3,Bd6,Bg5,O-O,Nd2,h6,Bh4,Be7,Bg3,Bd6,b3,Bxg3,fxg3,a5,Be2,a4,b4,a3,Nf3,Ne4,Qe1,Ne7,Bd3,Rc8,Rc1,Nf6,Ne5,Nc6,Nxc6,bxc6,g4,Re8,Qg3,Ne4,Bxe4,dxe4,Rfe1,Qg5,h4,Qd2,Red1,Qxa2,g5,h5,g6,f6,Qe3,f5,c4,Qb2,Qg5,Kf8,Qxh5,a2,Qh8+,Ke7,Qxg7+,Kd8,Qf6+,Kc7,Qe5+,Kb7,h5,Ra8,Qd6,a1=Q', 'Qd7+,Kb6,c5+,Kb5,Qb7+,Ka4,Rxa1+', 'https://lichess.org/training/t5k2T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5mOM', 'Blitz', 'HugoFilipe1', 1621, 'Raihan71', 1645, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,f3,Be7,Nc3,O-O,Be3,Bb4,Qd2,d5,a3,Bxc3,bxc3,dxe4,Qxd8,Rxd8,Bg5,exf3,Bxf6,gxf6,gxf3,Bf5,Rc1,Rd6,Bg2,Rad8,O-O,Kf8,Nc5,b6,Nb7,Ke7,Nxd8,Rxd8,Rfd1,Rg8,Kf2,Na5,Rg1,Nc6,f4,e4,Bxe4', 'Rxg1,Rxg1,Bxe4,Re1,f5', 'https://lichess.org/training/T5mOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5noD', 'Blitz', 'RUFFIAN_XII', 2139, 'das_schach', 2171, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,Be7,Be2,f5,exf5,Bxf5,N1c3,a6,Na3,Nf6,Be3,O-O,O-O,Kh8,Nc2,Rc8,Nd5,b5,Nxe7,Nxe7,b3,bxc4,Bxc4,d5,Bd3,d4,Bxf5,Nxf5,Bg5,Qd5,Nb4,Qb7,Nd3,Ne4,Qg4,Nxg5,Qxg5,e4,Nf4,e3,fxe3,Nxe3,Rf2,Rc2', 'Ng6+,hxg6,Rxf8+,Kh7,Qh4#', 'https://lichess.org/training/T5noD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t5nWt', 'Rapid', 'Krecikus', 1649, 'Virolillo', 1725, 'e4,e5,Nf3,d6,Nc3,c6,Bc4,Be7,h3,Nf6,O-O,O-O,d4,exd4,Nxd4,c5,Nf5,Bxf5,exf5,Qc7,Re1,Nc6,Bg5,Ne5,Bb5,a6,Bd3,Nxd3,Qxd3,Rae8,Rad1,h6,Bxf6,Bxf6,Rxe8,Rxe8,Nd5,Qd8,Nxf6+,Qxf6,Qxd6,Qxf5,Qd7', 'Re1+,Rxe1,Qxd7', 'https://lichess.org/training/t5nWt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t5Q1u', 'Blitz', 'AA_OnTheRiver', 1740, 'samikhalifa', 1927, 'e4,d5,e5,e6,d4,c5,c3,c4,Nf3,Ne7,g3,Nbc6,Bg2,Ng6,Bg5,Be7,Bc1,O-O,O-O,b5,Nbd2,a5,h4,b4,h5,Nh8,Re1,a4,Nf1,a3,bxa3,bxc3,Qc2,Qa5,N1h2,Bxa3,Ng5,g6,Ng4,Bxc1,Raxc1,Nxd4,Nh6+,Kg7,Qxc3,Qxc3,Rxc3,Rxa2,Ng4,Ne2+,Kh2,Nxc3', 'h6+,Kg8,Nf6#', 'https://lichess.org/training/t5Q1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t5Rmh', 'Rapid', 'mike998', 1662, 'drunkenGuy', 1731, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nf3,Nf6,Nc3,Bb4,Bd3,O-O,Bg5,h6,Bh4,Be7,O-O,a6,Rc1,Re8,a3,b5,b4,Bb7,Qc2,d6,Rfd1,Nh5,Bxe7,Qxe7,g3,Rac8,Qb2,Qf6,Be2,Rc7,Nh4,Qg5,f4,Qf6,Bxh5,Nxd4,e5,dxe5,Ne2,Rxc1,Rxc1,Rd8,Rd1', 'Nf3+,Bxf3,Rxd1+', 'https://lichess.org/training/t5Rmh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5SVk', 'Blitz', 'erindreki', 2554, 'FM JusticeBot', 2567, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Bd2,d5,cxd5,exd5,a3,Bxc3,Bxc3,Re8,Nf3,Ne4,e3,Bg4,Bd3,Nc6,Nd2,Nxd2,Qxd2,h6,h3,Bd7,O-O-O,Rb8,Rhe1,b5,e4,Be6,e5,a5,b4,axb4,axb4,Qd7,Kb2,Bf5,g4,Bxd3,Qxd3,Ra8,Ra1,Ne7,f4,Rxa1,Rxa1,Nc8,Ra5,c6,f5,Nb6,Kb3,Nc4,Ra2,Qb7,h4,Ra8,Qe2,Ra4,Rxa4,bxa4+,Ka2,Qb5,e6,Nd6,exf7+,Kf8,Qe6,Qc4+,Kb2', 'Qb3+,Kc1,Qxc3+', 'https://lichess.org/training/T5SVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t5Tem', 'Classical', 'salar_ghs', 1623, 'WoWkA1987', 1611, 'e4,e6,Nh3,b6,Qf3,Bb7,d3,h6,Qh5,Nf6,Qf3,d5,Nc3,dxe4,dxe4,Bb4,Bd2,Bxc3,O-O-O,Bxe4,Qxc3,O-O,Qg3,Qe7,f3,Bf5,Nf4,Qc5,Bc3,e5,Nd3,Bxd3,Bxd3,Nbd7,Rhe1,Rae8,b4,Qxc3,f4,exf4', 'Bh7+,Kxh7,Qxc3', 'https://lichess.org/training/t5Tem');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5vyc', 'Blitz', 'DexterBoo', 1538, 'DamirZ87', 1554, 'e4,c6,d4,d5,e5,Bf5,f4,e6,Nf3,c5,c3,Qa5,Bd2,Ne7,a4,cxd4,cxd4,Qb6,a5,Qc7,b4,Ng6,Bb5+,Nc6,O-O,a6,Ba4,b5,axb6,Qxb6,Nc3,Be7,Ne2,O-O,Rb1,Bxb1,Qxb1,Rab8,Rc1,Nxb4,Bxb4,Bxb4,Rc6,Qa5,Bc2,Nxf4,Nxf4,Bd2,Bxh7+,Kh8,Ng6+,fxg6,Qxg6,Rb1+,Qxb1,Qa4,Rxe6,Be3+,Kh1,Bxd4,Bc2,Qc4,Bd3,Qc3,Nxd4,Qxd4,Qd1,a5,Qh5+,Kg8,Qh7+,Kf7,Qg6+,Kg8,Re7', 'Qa1+,Bb1,Rf1#', 'https://lichess.org/training/T5vyc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t5wV9', 'Rapid', 'aurora_13', 1649, 'lizard_queen', 1640, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,Bg5,h6,Bh4,g5,Bg3,Bg4,Qe2,Nd4,Qd2,Nxf3+,gxf3,Bxf3,Ne2,Bxh1,O-O-O,Bf3,Ng1,Bxd1,Qxd1,Bd4,c3,Bb6,Nh3,Qd7,Ng1,O-O-O,f3,Bxg1,Qxg1,g4,Qxa7,Qc6,Bxf7,gxf3', 'Be6+,Qd7,Qa8#', 'https://lichess.org/training/t5wV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5x6N', 'Rapid', 'adjmac', 834, 'elusive16', 768, 'e4,d5,f3,dxe4,fxe4,Qd4,Nf3,Qxe4+,Be2,Be6,d3,Qd5,Ng5,Bf5,c4,Qxg2', 'Bf3,Qxh1+,Bxh1', 'https://lichess.org/training/T5x6N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T5zfa', 'Rapid', 'kadadanama', 1933, 'CyrCo', 1646, 'c4,Nf6,e3,d5,a3,e6,b4,b6,Bb2,Be7,Be2,Bb7,Nf3,O-O,O-O,dxc4,Bxc4,Nbd7,Be2,c5,b5,Qc7,Bc4,Ng4,h3', 'Bxf3,hxg4,Bxd1', 'https://lichess.org/training/T5zfa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t62Uj', 'Classical', 'neuralknot', 1638, 'Pavel0856', 1651, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nb5,a6,N5c3,Be7,Bc4,Nf6,Qf3,O-O,Nd5,Nxd5,Bxd5,Bf6,O-O,Qe7,c4,a5,Nc3,Na6,a3,Nc7,Re1,Nxd5,Nxd5,Qe5,Nxf6+,gxf6,Bh6,Re8,Rad1,Be6,Qe3,Kh8,b3,Rg8,h3,Qh5,Rd3,Bxh3', 'Qxh3,Qxh3,Rxh3', 'https://lichess.org/training/t62Uj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t63Qa', 'Rapid', 'DUCOBU', 1885, 'happoren', 1778, 'f4,d5,d4,f5,Nf3,e6,e3,Nf6,Bd3,Bd6,O-O,O-O,Ne5,Nbd7,Nd2,Ne4,c4,c6,c5,Bc7,Nxe4,fxe4,Be2,Nxe5,fxe5,Bd7,Rxf8+,Qxf8,Bd2,Be8,Qb3,Rb8,Rf1,Qe7,Qd1,Bg6,b4,a6,a4,Rf8,Bh5', 'Rxf1+,Qxf1,Bxh5', 'https://lichess.org/training/t63Qa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T65BM', 'Rapid', 'Triva', 1796, 'aligenius5', 1897, 'e4,e5,Bc4,Nf6,d3,Bc5,Be3,Bxe3,fxe3,Nc6,Ne2,O-O,O-O,Ng4,Rf3,Qh4,h3,Nf6,Nbc3,a6,Qf1,Ne7,Nd5,Nexd5,exd5,d6,e4,b5,Bb3,a5,a3,a4,Ba2,Qh6,Nc3,Bd7,Qf2,Nh5,Rf1,Qg6,Ne2,Rab8,Ng3,Nf4,Ne2', 'Nxh3+,Rxh3,Bxh3', 'https://lichess.org/training/T65BM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T69tb', 'Classical', 'mahen', 2041, 'Tactical_007', 2089, 'e4,c6,d4,d5,e5,Bf5,g4,Be4,f3,Bg6,h4,h5,e6,Qd6,exf7+,Bxf7,Ne2,Nd7,g5,e5,c3,Ne7,Bh3,Be6,dxe5,Nxe5,Nd4,Bxh3,Rxh3,O-O-O,Na3,Qd7,Rg3,Nf5,Nxf5,Qxf5,f4,Bxa3,fxe5,Qxe5+,Re3,Qh2,bxa3,Rhe8,Qd4,Qg1+,Ke2,Qg2+,Kd3,Re4,Qxa7,Kc7,Rb1,Rxe3+,Bxe3', 'Qe4+,Kd2,Qxb1,Bf4+,Kd7', 'https://lichess.org/training/T69tb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T6ACA', 'Classical', 'Spartan094', 1643, 'GalVal', 1720, 'e4,c5,Nc3,Nc6,d3,e6,Nge2,g6,g3,Bg7,Be3,d6,Bh3,Nge7,Nf4,a6,O-O,O-O,Qf3,Rb8,Rad1,b5,a3,Ne5,Qe2,Bd7,d4,Nc4,d5,Nxe3,Qxe3,Bd4,Rxd4', 'cxd4,Qxd4,e5', 'https://lichess.org/training/T6ACA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t6AwH', 'Rapid', 'alighamdi', 2002, 'mbokhari', 1885, 'e4,c5,Nf3,g6,b4,Bg7,e5,Nc6,Bb2,Nxb4,c3,Nc6,d4,cxd4,cxd4,e6,d5,exd5,Qxd5,Nge7,Qd2,Qc7,Bc4,O-O,O-O,Nxe5,Nxe5,Bxe5,Bxe5,Qxe5,Nc3,Qc5,Bb3,a6,Rac1,Qa5,Qd6,Nf5,Qf6,Qd8', 'Bxf7+,Rxf7,Qxd8+', 'https://lichess.org/training/t6AwH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T6bua', 'Rapid', 'bobby_fischer_72', 2048, 'bamZ_60', 2130, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,d6,Qb3,Qe7,Ba3,Bb6,cxd4,Nh6,e5,O-O,exd6,cxd6,Nc3,Nxd4,Nxd4,Bxd4,Nd5,Qg5,Rad1,Bc5,Bc1,Qh5,Qg3,Kh8,Nc7,Be6,Bxe6,fxe6,Nxe6,Rf7,Nxc5,dxc5,Qd6,Ng4,Bb2,Raf8,h3,Nxf2,Rd3,Nxd3', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/T6bua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T6gnj', 'Classical', 'devsanjaisv', 1802, 'FaridDesso', 1893, 'd4,d5,e3,Bf5,Bd3,Bg6,f4,e6,h4,Be7,g3,Nf6,h5,Be4,Bxe4,Nxe4,Qg4,g5,hxg6,fxg6,Qxe6,Nxg3,Rh3,Nh5,Nc3,c6,Nf3,Qd7,Qxd7+,Nxd7,Ne5,Ng7,Nxg6,Rg8,Nxe7,Kxe7,Rxh7,Nf6,Rh1,Rh8,Rg1,Kf7,Bd2,Rh2,O-O-O,Rah8,Be1,Nf5,Bd2,Ne4,Nxe4,dxe4,Rg5,Kf6,d5,cxd5,Bc3+,d4,Bxd4+,Nxd4,Rxd4,Re2,Rg3,Rh1+,Rd1,Rhh2,Rd6+,Ke7,Rdg6', 'Re1#', 'https://lichess.org/training/T6gnj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T6ioF', 'Rapid', 'juranune', 1752, 'leo593', 1730, 'e4,e6,Bc4,Bc5,Nc3,Nc6,Nf3,Nf6,e5,Ng4,d4,Bb4,Bg5,Bxc3+,bxc3,f6,exf6,Nxf6,O-O,O-O,Nh4,Na5,Bb3,Nxb3,cxb3,Qe8,Be3,Ne4,Qd3,d5,Nf3,Qc6,Rac1,Qd6,Ne5,c5,f3,Nf6,f4,cxd4,cxd4,Ne4,g3,Bd7,a4,a6,Rf2,b5,Ra2,bxa4,bxa4,a5,Kg2,Rac8,Rac2,Rxc2+,Rxc2,Bxa4,Ra2,Qb4,Qa3,Rb8', 'Qxa4,Qxa4,Rxa4', 'https://lichess.org/training/T6ioF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T6mBg', 'Rapid', 'KmAbasiyanikYavuzS', 1813, 'beatmedusa505', 1876, 'e4,a6,d4,b5,Nf3,Bb7,Bd3,Nf6,Nbd2,e6,O-O,Be7,e5,Nd5,Nb3,f5,c4,bxc4,Bxc4,O-O,Na5,Bc6,Nxc6,dxc6,Qb3,c5,Rd1,Nc6,dxc5,Na5,Qa4,Nxc4,Qxc4,Qe8,Nd4,Qg6,Nc6,Bh4,g3,f4,Kh1,fxg3,fxg3,Bg5,Bxg5,Qxg5,Nd4,Qh6,Rf1,Rxf1+,Rxf1', 'Ne3,Nf5,Nxc4,Nxh6+,gxh6', 'https://lichess.org/training/T6mBg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T6n9O', 'Rapid', 'palange_abadan', 1957, 'naanbread', 1966, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qh5,Nxe4,Be6,Bg5,Bd6,c3,O-O,Nxd6,cxd6,cxd4,Bg4,Be3,d5,h3,Bxf3,Qxf3,Qxf3,gxf3,f5,Rad1,f4,Bc1,g5,Kh2,Rfe8,Rg1,h6,Bxf4,Re2,Be3,Kh7,Rb1,Rf8,Kg2,Re8,Rgc1', 'R8xe3', 'https://lichess.org/training/T6n9O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t6NIF', 'Rapid', 'order523', 1772, 'Jadooo', 1763, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Nxc6,bxc6,h3,e5,a3,Be6,Bg5,Be7,Rb1,O-O,Be2,d5,exd5,cxd5,O-O,d4,Bxf6,Bxf6,Ne4,Be7,Qd3,f5,Nd2,e4,Qb5,Rb8,Qa4,Qb6,Nc4,Bxc4,Qxc4+,Kh8,Qd5,Rbd8,Qe5,Bd6,Qb5,Qc7,Qb3,Rb8,Qc4,Qxc4,Bxc4,Rfc8,Bb3,d3,Be6,Rc5,cxd3,Re5,Bc4,Rd8,dxe4,Rxe4,b3,Bxa3,Ra1,Bc5,Ra5,Re5,Ra2,g6,Rc1,Bb6,Kh2,Re4,f3,Red4,Re2,Kg7,Rce1,Kh6,Re7,Ba5,Ra1,Bb6,Rf7,R8d7,Rxd7,Rxd7,Re1,Kg5,Re6,h6,Re1,Kf4,Rc1,Bf2,Rf1,Bg3+,Kg1,g5,Rc1,Ke5,Kf1,Rd2,Kg1,Kd4,Ra1,Bf2+,Kh2,Bg3+,Kg1,Kc3,Kf1,Rf2+,Kg1,Rd2,Rc1+,Kb2,Rf1,a5,Kh1,Kc3,Rc1+,Kb4,Be6,f4,Kg1,a4,bxa4,Kxa4,Kf1,Kb4,Rc4+,Ka3,Rc3+,Kb2,Rc8', 'Rd1+,Ke2,Re1+,Kd2,Rxe6', 'https://lichess.org/training/t6NIF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t6QHC', 'Rapid', 'Skalipous', 1841, 'piin', 1839, 'd4,d5,c4,e6,Nc3,Bb4,Qc2,dxc4,e3,b5,Qe4,Bxc3+,bxc3,Qd5,Qg4,g6,Nf3,Nf6,Qg3,c6,Be2,Ne4,Qc7,O-O,Bd2,Nxd2,Nxd2,Qxg2,O-O-O,Qxf2,Rde1,Qxe3,Kc2,b4,cxb4,Qa3,Bxc4,Qxb4,h4,Qa4+,Bb3,Qb5,h5,Na6,Qf4,Nb4+,Kb1,Qd3+,Ka1,Bd7,h6,f5,Rc1,Nd5,Qe5,Rf7,Nc4,a5,Nb6,Raf8', 'Nxd7,Rxd7,Qxe6+', 'https://lichess.org/training/t6QHC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t6tw4', 'Classical', 'cloudhidden', 1768, 'PedroAlberto', 1787, 'e4,c6,f4,d5,e5,Bf5,d4,h6,g4,Bh7,Nd2,e6,Ngf3,Nd7,Nb3,c5,Bb5,a6,Bxd7+,Qxd7,Be3,b6,dxc5,bxc5,Nxc5,Bxc5,Bxc5,Rc8,b4,Ne7,c3,O-O,h4,Rfe8,g5,h5,Rg1,Bg6,Nd4,Nf5,Nxf5,Bxf5,Qxh5,Qb5,O-O-O,Qa4,Rd2,a5,g6,Bxg6,Rxg6,fxg6,Qxg6,axb4,cxb4,Qxb4', 'Qxe8+,Rxe8,Bxb4', 'https://lichess.org/training/t6tw4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T6udp', 'Blitz', 'akaev2009', 1842, 'fewdaysz', 1786, 'e4,d5,exd5,e6,dxe6,Bxe6,Bb5+,Nc6,Qf3,Qd5,Qxd5,Bxd5,Bxc6+,Bxc6,Nf3,Bxf3,gxf3,O-O-O,d3,Nf6,Rg1,Bc5,Rxg7,Rhg8,Rxg8,Rxg8,Ke2,Rg2,Be3,Bxe3,Kxe3,Rxh2,Nd2,Nd5+,Ke4,c6,Rf1,Kd7,Nc4,b5,Ne5+,Ke6,Nxc6,a5,Nxa5', 'Rh4+,f4,Rxf4#', 'https://lichess.org/training/T6udp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t70cV', 'Classical', 'Russul86', 1867, 'Bowa14', 1788, 'd3,e5,e4,f5,exf5,d5,Be2,Bxf5,Nf3,Nc6,O-O,Nf6,d4,Bd6,c3,O-O,Bg5,h6,Bxf6,Qxf6,dxe5,Nxe5,Nxe5,Bxe5,f4,Bd6,Bf3,c6,Kh1,Bxf4,Bxd5+,cxd5,Rxf4,Bc2', 'Qxd5+,Kh8,Rxf6', 'https://lichess.org/training/t70cV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t75zD', 'Rapid', 'Chessmasters2020', 1917, 'Arunavameister', 1910, 'g3,d5,Bg2,Bf5,d3,Nc6,Nf3,e6,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,d4,O-O,O-O,Ne7,e3,c5,dxc5,Nc6,Nd4,Nxd4,exd4,Qa5,a4,Qb4,Nb5,a6,c3,Qa5,b4,Qd8,Nd6,Be7,Nxb7,Rb8,Na5,Qc7,Qe2,Ra8,c4,dxc4,Bxa8,Rxa8,Qxc4,Be4,f3,Bd5,Qc3,Rb8,Rab1,Bf6,Qd3,Qd7,b5,axb5,axb5,g6,b6,Qa4,Ra1', 'Bxd4+,Kg2,Bxa1', 'https://lichess.org/training/t75zD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t77ZF', 'Rapid', 'usadegh', 1925, 'Stubenhocker13579', 2048, 'e4,c5,Nf3,Nc6,c3,d5,e5,d4,cxd4,cxd4,Bb5,e6,Qa4,Bd7,O-O,Bc5,Na3,Nge7,d3,h6,Nc4,a6,Bxc6,Bxc6,Qd1,b5,Ncd2,Ng6,Nb3,Bb6,h4,Bxf3,Qxf3,Nxh4,Qc6+,Ke7,Bf4,Rc8,Qe4,Ng6,Bd2,a5,Rac1,b4', 'Qb7+,Qd7,Qxb6', 'https://lichess.org/training/t77ZF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T7AxD', 'Rapid', 'StanR', 2092, 'Ayham70', 1859, 'd4,Nf6,Nf3,e6,c4,d5,g3,c5,cxd5,Nxd5,Bg2,cxd4,Nxd4,Bb4+,Nc3', 'Nxc3,bxc3,Bxc3+', 'https://lichess.org/training/T7AxD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7CT9', 'Blitz', 'Gapele', 1697, 'Lallerz', 1612, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,a6,Qd2,Bb4,Nb3,Nxe4,Qd3,f5,O-O-O,Bxc3,bxc3,Qf6,Nd4,O-O,f3,Nc5,Qd2,Na4,Bc4,b5,Bb3,Rb8,Bg5,Qe5,Bf4,Qc5,Bxb8', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/t7CT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7Dy2', 'Rapid', 'saino1', 1648, 'redwhite81', 1834, 'e4,d5,Nf3,dxe4,Ng5,e5,Nxe4,f5,Qh5+,g6,Qg5,fxe4', 'Qxe5+,Qe7,Qxh8', 'https://lichess.org/training/t7Dy2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T7fDl', 'Blitz', 'MdSLorran', 1663, 'RafaelStr', 1671, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,Bg5,Be7,Qd2,h6,Bh4,Rb8,O-O-O,Qb6,Na4,Qb7,Bc4,Nxe4,Qe3,Bxh4,Qxe4,Bg5+,f4,Bxf4+,Kb1,O-O,Bd3,g6,g3,d5,Qe2,e4,gxf4,exd3,Qxd3,Bd7,Rhg1,c5', 'Rxg6+,fxg6,Qxg6+,Kh8,Qxh6+', 'https://lichess.org/training/T7fDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T7g4B', 'Blitz', 'IM purzelbaumer', 2383, 'weakieduck', 2380, 'd4,d5,c4,e6,Nc3,c5,cxd5,exd5,Nf3,Nc6,dxc5,d4,Na4,Bxc5,Nxc5,Qa5+,Bd2,Qxc5,Rc1,Qb6,b4,Nf6,b5,Qxb5,e3,d3,Rb1,Qa6,a4,Bf5,Rb5,Bg6,Qb3,O-O,h4,h6,h5,Be4,Rh4,Rad8,Bc3,Bxf3,gxf3,Nd7,Rg4,d2+,Kd1,Nde5,Rg1,Nd4,Bxd4,Rxd4,exd4,Qc6,Rc5,Qd6,Rxe5,Qxd4,Re3,Rc8,Bd3,Qa1+,Kxd2,Qxg1,Re7,Qxf2+,Be2', 'Rd8+,Qd3,Rxd3+', 'https://lichess.org/training/T7g4B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7GDL', 'Rapid', 'Crush3r', 1948, 'Yon_Yonson', 1906, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,h3,h5,Re1,b5,Bb3,Nd4,Nxd4,exd4,e5,Ng4,exd6+,Kd7,hxg4,Bxd6,gxh5,Qh4,Qf3', 'Qh2+,Kf1,Qh1+,Ke2,Re8+', 'https://lichess.org/training/t7GDL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7GH1', 'Blitz', 'Sjaakmatinone', 2340, 'FM ViniciusRego', 2393, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d5,exd5,Qxd5,Nf3,Bg4,Be2,e6,Nc3,Qd8,O-O,Nf6,Bg5,Be7,Qa4,O-O,d5,Bxf3,Bxf3,Nxd5,Bxe7,Ncxe7,Rad1,Nxc3,bxc3,Qc8,Rd7,Nc6,Rfd1,Ne5,Bxb7,Qxc3', 'Bxa8,Nxd7,Qxd7', 'https://lichess.org/training/t7GH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T7I5e', 'Rapid', 'DoppiaElle', 1643, 'Tikizer', 1628, 'd4,d5,c4,dxc4,Nc3,Nc6,Nf3,Nf6,e4,Bg4,Be3,e5,d5,Na5,Qa4+,Bd7,Qxa5,Bd6,Bxc4,Qe7,a3,O-O,O-O,b6,Bxb6', 'axb6,Qxa8,Rxa8', 'https://lichess.org/training/T7I5e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7JtW', 'Blitz', 'castle9697', 1674, 'LuEmHa', 1774, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bb5,Nge7,d3,O-O,Be3,a6,Bxc5,axb5,Nxb5,b6,Ba3,Nd4,Nfxd4,exd4,Nxd4,c5,Nf3,Nc6,d4,c4,Bxf8,Qxf8,d5,Ne7,O-O,Ng6,Qe2,d6,Qxc4,Bg4,Qb5,Qe7,Qxb6,Bxf3,gxf3,Nf4,Qe3', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/t7JtW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T7MKS', 'Rapid', 'Trxps', 2055, 'khleeeel', 2019, 'e4,c5,Nc3,g6,g3,Bg7,Bg2,Nc6,Nge2,Nf6,d3,O-O,O-O,a6,a4,d6,h3,Nh5,Be3,e6,Qd2,Nb4,Rab1,Rb8,Bh6,Bxh6,Qxh6,Nxc2,f4,Nb4,g4,Ng7,f5,exf5,gxf5,Nxd3,Ng3,gxf5,Nd5,f6,Rf3,Ne5,Rxf5,Bxf5,exf5,Rf7,Ne4,Ne8,Nf4,Rg7,Ne6,Qe7,Nxg7,Qxg7,Qh5,b5,Kh1,Kh8,Rg1,Qf7,Qd1,Rd8,axb5,axb5,Nxc5,Nc4,Ne6,Rd7,Bd5,Ne3,Qf3,Nxd5,Qxd5,Nc7', 'Nxc7,Qxd5+,Nxd5', 'https://lichess.org/training/T7MKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T7N0I', 'Rapid', 'darkbull6', 1851, 'rolvinschjki', 1855, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,e6,c4,Bb4+,Nc3,O-O,a3,Bxc3+,bxc3,dxc4,Bxc4,Ne4,Qb3,b6,O-O,Qf6,Rad1,c6,Bd3,Nd7,Ne5,Nxe5,Bxe5,Qg6,Bxe4,Bxe4,Bg3,f5,f3,f4,exf4,Bd3,Rf2,Bf5,c4,Rad8,d5,cxd5,cxd5,exd5,Rxd5', 'Be6,Rxd8,Bxb3', 'https://lichess.org/training/T7N0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7n4c', 'Rapid', 'dhcblitz', 1861, 'vip1500', 1856, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,Nxd4,Bxd7+,Qxd7,Qxd4,c5,Qc4,b5,Qd5,Rb8,Bg5,Ne7,Bxe7,Bxe7,Nd2,Bf6,Rab1,O-O,Nf3,Rfe8,Rfe1,Qe6,Qxe6,fxe6,b3,a5,Rbd1,Rbd8,Re3,h6,Red3,Be7,g3,Kf7,Kg2,g5,Nd2,Kf6,c4,b4,f4,gxf4,gxf4,Rg8+,Rg3,Rxg3+,hxg3,Rg8,Kf3,Kg6,Rh1,Rf8,Nf1,h5,Ne3,Rh8,Ng2,e5,Nh4+,Bxh4,Rxh4,exf4,gxf4,Kf6,Ke3,Rh6,Kf3,Kg6,Ke3,Rh7,Kf3,Re7,Ke3,Re8,Kf3,Kh6,Ke3,Rg8,Kf2,Rg4,Rxg4,hxg4,Kg3,Kh5,Kg2,Kh4,e5', 'dxe5,fxe5,Kg5,e6,Kf6,e7,Kxe7', 'https://lichess.org/training/t7n4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T7oQB', 'Classical', 'Vodonepronicaemui777', 1770, 'chessjedi', 1863, 'b4,e6,Bb2,Nf6,b5,d5,e3,c5,c4,d4,exd4,cxd4,Nf3,Bc5,d3,O-O,Be2,Re8,O-O,e5,a4,Bg4,Nbd2,Nbd7,Re1,Bd6,Qc2,Nc5,a5,Rc8,Ba3,Bd7,Bb4,Nce4,Bxd6,Nxd6,Rec1,Nxb5,Qb3,Nc3,Bf1,Bc6,Re1,Qd6,Ng5,h6,c5,Qc7,Nge4,Nfxe4,Nxe4,Bd5,Qb4,Bxe4,dxe4,Re7,a6,Qxc5', 'axb7,Rxb7,Qxb7', 'https://lichess.org/training/T7oQB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7PaY', 'Blitz', 'IM SpiderMoves', 2734, 'GM Lunaticxxx', 2808, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,c5,d5,b5,e4,d6,Bd2,a6,a4,bxc4,Bxc4,Nbd7,dxe6,fxe6,Bxe6,Ne5,Bxc8,Rxc8,Qc2,c4,Be3,O-O,Ne2,Nd3+,Kf1,d5,Nxd5,Nxd5,exd5,Qxd5,Nd4,Bc5,Qc3,Rce8,Bg1,Bxd4,Bxd4,Rxf3+,Kg1,Re2,b3,Rf1+,Kxf1', 'Qxg2#', 'https://lichess.org/training/t7PaY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7pZK', 'Rapid', 'CHERIBIBI', 1973, 'jalal-langarood', 1760, 'f4,Nf6,d4,d5,Nf3,c6,e3,Bg4,Bd3,e6,O-O,Nbd7,Nbd2,Be7,Qe1,Bxf3,Nxf3,O-O,Ne5,Nxe5,fxe5,Nd7,c3,f6,exf6,Rxf6,Bd2,Qc7,e4,Rxf1+,Qxf1,Rf8,Qe2,Nf6,e5,Ne8,Qh5,g6,Qe2,Ng7,Bh6,Rf7,Rf1,Nf5,Bxf5,exf5,h3,c5,Be3,b6,Qd2,cxd4,Bxd4,Bc5,Qg5,Bxd4+,cxd4,Qc4,e6,Qxd4+,Kh1,Rf6,e7,Re6,Rxf5,Kg7,Rxd5', 'Re1+,Kh2,Qg1+,Kg3,Re3+,Qxe3,Qxe3+', 'https://lichess.org/training/t7pZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T7Qd2', 'Blitz', 'revan_tj', 1583, 'winniebluesmate', 1606, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,d5,Bb3,Nc5,Nxe5,Nxb3,axb3,Be6,Re1,Nc6,Nxc6,bxc6,d3,Bc5,c4,Qf6,Be3,Bxe3,Rxe3,Qxb2,Nd2,Qf6,cxd5,cxd5,b4,O-O,Rc1,Rfc8,Rc6,Rab8,Qb1,Rb6,b5,Rcb8,Rxc7,Rxb5,Qc2,Qa1+,Nf1,Rb1', 'Rc8+,Rxc8,Qxc8+,Bxc8,Re8#', 'https://lichess.org/training/T7Qd2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T7RKm', 'Blitz', 'rahzyvel', 2017, 'narotevk', 2021, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Nc3,Bb4,O-O,O-O,Nd5,Bc5,Nf5,Nxe4,Bf4,d6,Qg4,Bxf5,Qxf5,Re8,b4,Nxb4,Nxb4,Bxb4,Bxf7+,Kh8,Bxe8,Qxe8,Rfe1,Bxe1,Rxe1,d5,Qxd5,Rd8,Qf5,Qc6,f3,Qb6+,Be3', 'Qxe3+,Rxe3,Rd1+,Re1,Rxe1#', 'https://lichess.org/training/T7RKm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7sXE', 'Rapid', 'warmik85', 1708, 'omarTolba', 1664, 'Nf3,c5,g3,Nc6,Bg2,e6,O-O,Nf6,d3,d5,Nbd2,e5,e4,d4,c3,Be7,Qc2,O-O,Nc4,Bd6,Bg5,Bg4,a4,Bxf3,Bxf3,Be7,Bg2,h6,Bxf6,Bxf6,Rad1,h5,Qe2,h4,f4,hxg3,hxg3,exf4,gxf4,Re8,Kf2,Bh4+,Kf3,Qf6,Rh1,Bg5,Qd2,Ne5+,Nxe5,Rxe5,Rdf1,Bh4,Ke2,Ree8,Rf3,g5,Rfh3,Kf8,fxg5,Bxg5,Rh8+,Ke7,Rxe8+,Rxe8,Qd1,Qf4,Rh3', 'Qg4+,Rf3,Qxg2+', 'https://lichess.org/training/t7sXE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T7U8E', 'Blitz', 'IM KillerBateman', 2503, 'jesinor', 2245, 'e4,c5,Be2,e6,f4,d5,d3,dxe4,dxe4,Qxd1+,Bxd1,b6,c3,Bb7,Bc2,Nf6,Nd2,Be7,Ngf3,Nc6,h3,O-O,Kf2,Rfd8,e5,Nd5,Ne4,c4,Rd1,b5,g3,f5,Neg5,Bc8,h4,h6,Nh3,Bc5+,Ke2,Bb7,h5,a5,Nh4,Nce7,Ng1,Kf7,Ngf3,Rd7,Ng2,Rad8,Ne3,Nxe3,Bxe3,Bxe3,Kxe3,Bxf3,Kxf3,Rxd1,Rxd1,Rxd1,Bxd1,Nd5,Be2,Ke7,Kf2,Kd7,Bf3,Kc6,Ke2,Kc5,Kd2,b4,Be2,a4,cxb4+,Nxb4,a3,Nd5,Bd1,Nb6,Ke3,Nd5+,Kf3,Nb6,g4,fxg4+,Kxg4,Kd4,Be2,Ke3,Bf1,Kd2,f5,exf5+,Kxf5,Kc1,e6,Nc8,Bxc4,Kxb2,Bb5', 'Nd6+,Ke5,Nxb5,e7,Nc7,Kd6,Ne8+,Kd7,Nf6+', 'https://lichess.org/training/T7U8E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7wA7', 'Bullet', 'Raschmatt', 2168, 'FM Sandstad', 2342, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e4,d6,Be2,Nc6,O-O,e5,dxe5,dxe5,Qxd8,Rxd8,Nd5,Nxd5,cxd5,Nd4,Nxd4,exd4,Bf4,c6,dxc6,bxc6,Rac1,Be6,b3,Rac8,Bd3,c5,Rc2,Bf8,Rfc1,f5,f3,Kf7,Kf2,Be7,Rd1,Bh4+,g3,Be7,Ke2,Bf6,exf5,gxf5,Bc4,Bxc4+,Rxc4,Be7,Kd3,Rc6,Re1,Ra6,Re2,Re6,Rcc2,Rd7,Rxe6,Kxe6,Re2+,Kf6,Be5+,Kf7,g4,fxg4,fxg4,a5,Bg3,a4,h4,axb3,axb3,Rb7,Kc2', 'd3+,Kxd3,Rxb3+,Ke4,Rxg3', 'https://lichess.org/training/t7wA7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7wXJ', 'Rapid', 'Belmor79', 1783, 'davidasilb', 1904, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Bc4,Qc7,Be3,Nf6,e5,Nxe5,Bb3,Nc6,g4,h6,f3,Be7,Qd2,d5,O-O-O,Bd7,Rhe1,O-O-O,Na4,Kb8,Nxc6+,Bxc6,Bf4,Bd6,Be3,e5,Bb6,Qd7,Bxd8,Rxd8,Nb6,Qe7,Kb1,d4,Qf2,Bc5,Nc4,d3,Qd2,dxc2+,Qxc2,Bxf3,Rxd8+,Qxd8,Nxe5,Bxg4,Nxg4,Nxg4,Qxc5,Nf6,Rd1,Qe8,Qd6+,Ka7,Qc5+,Kb8,a4,Ne4,Qe3,f5,Bd5,Qxa4,Bxe4', 'Qxd1+,Qc1,Qxc1+,Kxc1,fxe4', 'https://lichess.org/training/t7wXJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t7xww', 'Classical', 'Samrat_tirelesssoul', 1800, 'Kalki_Avatara', 1701, 'e4,c6,d4,d5,e5,e6,Nc3,a6,Nf3,c5,Be3,Qc7,Be2,cxd4,Qxd4,Nc6,Qf4,Nge7,O-O-O,Ng6,Qg3,Ncxe5,Nxe5,Qxe5,f4,Qc7,h4,Bd6,Rdf1,f6,h5,Nf8,Qf2,Bb4,Na4,Nd7,Nb6,Nxb6,Bxb6,Qc6,a3,Bd6,Bd3,Bxf4+,Qxf4,Qxb6,h6,e5,hxg7,Rg8,Qxf6,Qxf6,Rxf6,e4,Be2,Ke7,Rfh6,Rxg7,Rxh7,Kf8,Rh8+,Rg8,Rf1+,Kg7,Rh5,Be6,Kd2,Rgf8,Rg5+,Kh6,Rh5+,Kg6,Rfh1,Rf2,Ke3', 'Rxe2+,Kxe2,Bg4+', 'https://lichess.org/training/t7xww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T7yp7', 'Bullet', 'IndioBrasileiro', 2192, 'dilhanm', 1986, 'e4,c5,d4,cxd4,c3,d5,exd5,Qxd5,cxd4,Nc6,Be3,Nf6,Nc3,Qd8,d5,Nb4,Qa4+,Bd7,Qxb4,e5,Qb3,Bd6,h3,O-O,Bb5,a6,Bxd7,Qxd7,Nge2,b5,g4,Rac8,Rd1,e4,Ng3,h6,Nf5,Bc5,O-O,h5,Bxc5,Rxc5,f3,exf3,Rxf3,hxg4,hxg4,Nxg4,Ne4,Rc4,Qd3,Ne5,Nf6+,gxf6,Rg3+,Kh8,Rh3+,Kg8,Kh1,Nxd3', 'Rg1+,Rg4,Rxg4#', 'https://lichess.org/training/T7yp7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t81rt', 'Classical', 'Jovanowsky', 1928, 'Lenin12', 2086, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Bc5,O-O,b5,Bb3,O-O,Nxe5,Nxe5,d4,Nc6,dxc5,Nxe4,Qd5,Nf6,Qg5,Qe7,Bd2,Ne4,Qxe7,Nxe7,Bf4,Nxc5,Bxc7,Re8,Re1,Ne6,Bd6,Ng6,Bd5,Ra7,Bb8,Bb7,Bxa7,Bxd5,Nc3,Bc6,g3,Rc8,Rad1,Ng5,Re3,Nf3+,Kf1,Nxh2+,Ke1,Nf3+,Ke2,Nfe5,f4,Nc4,f5,Nxe3,Kxe3,Ne5,Re1,Nc4+,Kf4,d6,b3,Ne5,Bd4,Nd7,Ne4,Bxe4,Rxe4,Kf8,c3,Re8', 'Bxg7+,Kxg7,Rxe8', 'https://lichess.org/training/t81rt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t82PW', 'Rapid', 'Ankit_ks1406', 1857, 'Rubicon555', 1640, 'e4,e5,Nf3,Bc5,c3,d6,d4,exd4,cxd4,Bb6,h3,Nc6,Bb5,Nf6,Bg5,Ba5+,Nbd2,a6,Ba4,b5,Bc2,O-O,a3,h6,Bh4,g5,Bg3,Re8,O-O,Bb6,d5,Nd4,Nxd4,Bxd4,Rb1,Bd7,Nb3,Bb6,Kh1,Nxe4,Bxe4,Rxe4,f4,f6,fxg5,hxg5,Qh5,Kg7,h4,Qe7,hxg5,Rh8', 'gxf6+,Qxf6,Qxh8+,Kxh8,Rxf6', 'https://lichess.org/training/t82PW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t82RP', 'Rapid', 'Very_Varoka67', 2048, 'hjani', 2022, 'e4,Nf6,d3,d5,e5,Nfd7,d4,e6,c3,c5,Be3,Nc6,a3,b6,Nf3,Bb7,Nbd2,Be7,Bb5,O-O,Bxc6,Bxc6,O-O,Bb5,Re1,Bd3,b4,cxb4,cxb4,Rc8,Rc1,Bg6,Qa4,Rc7,b5,Qb8,Rc6,Rfc8,Rec1,Qb7,h3,Nb8,Rxc7,Rxc7,Rxc7,Qxc7,Qb3,Bc2,Qb2,Bd3,a4,Qc2,Qa1,Bb4,Kh2,h6', 'Ne1,Qc8,Nxd3', 'https://lichess.org/training/t82RP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t86ww', 'Blitz', 'tanuj5210', 1812, 'Ludvigus', 1846, 'c4,c6,Nc3,d5,d4,a6,Nf3,dxc4,e4,b5,a4,Bd7,Ne5,Nf6,Nxd7,Nbxd7,Qf3,e6,e5,Nd5,Ne4,Be7,Bg5,Bxg5', 'Nd6+,Ke7,Qxf7#', 'https://lichess.org/training/t86ww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t89Ng', 'Classical', 'lodolastefano', 1897, 'gustavozal', 1868, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,e4,d6,Be2,e5,d5,Na6,Be3,Nc5,Nd2,a5,a3,a4,Bxc5,dxc5,Nxa4,b6,Nc3,Bd7,O-O,Ne8,a4,Nd6,Nb5,Bxb5,cxb5,Qh4,f3,f5,Bd3,f4,b4,cxb4,Qb3,Rf7,Qxb4,Bf8,Qc3,Re8,Nc4,g5,Nxd6,Bxd6,Qc6,Ref8,a5,Rf6,axb6,cxb6,Qxb6,Rb8,Qc6,Be7,Qc7,Kf7,Qxb8,Bc5+,Kh1', 'Qxh2+,Kxh2,Rh6#', 'https://lichess.org/training/t89Ng');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t8B2V', 'Rapid', 'nikishar', 1775, 'velevin', 1810, 'e4,d5,exd5,c6,dxc6,Nxc6,Bb5,Qb6,Bxc6+,Qxc6,Nc3,Qxg2,Qf3,Qg6,d3,Nf6,Nge2,e5,Bd2,Be7,Rg1,Ng4,h3,Nh2,Qe3,Qf6,Ne4,Nf3+,Kd1,Qf5,Rg3,Nxd2,Kxd2,Bd7,Rxg7,O-O-O,Qxa7,Bc6,Qe3,Bxe4,Ng3,Qxh3,Qxe4', 'Qh6+,f4,Qxg7', 'https://lichess.org/training/t8B2V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T8B5Q', 'Classical', 'bukmeker_23', 1876, 'hamoyasser', 1714, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,O-O,h3,h6,Bd2,Na5,b3,Nxc4,bxc4,c6,Qe2,d5,cxd5,cxd5,Nxe5,dxe4,Nxe4,Nxe4,dxe4,Bd4,Nxf7,Rxf7,Rd1,Qe7,O-O,Bb6,a3,Be6,Bb4,Qf6,Kh1,a5,Bd6,Rc8,f4,Bc4,Qg4,Bxf1,Qxc8+,Kh7,Be5,Bxg2+,Kxg2,Qg6+,Kf3', 'Qh5+,Qg4,Qxe5', 'https://lichess.org/training/T8B5Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t8B6l', 'Rapid', 'Sizov_Sergey', 2092, 'Comes_Paulus', 2041, 'e4,e5,f4,d6,Nf3,Nd7,d4,exd4,Qxd4,Ngf6,Bc4,Be7,e5,dxe5,fxe5,Bc5,Qh4,Qe7,Bf4,g5,Qxg5,Rg8,Qf5,Rxg2,Nbd2,Nb6,Qxf6,Qxf6,exf6,Nxc4,Nxc4,Rf2,Rf1,Rxc2,Nfd2,Bg4,Ne3,Bxe3,Bxe3,O-O-O,Rf4,Bh5,b3,Rg8,Rc4,Rxc4,Nxc4,Rg2,Bf4', 'Rg1+,Kd2,Rxa1', 'https://lichess.org/training/t8B6l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T8cV9', 'Rapid', 'SnakeOilSalesman007', 1741, 'MumbaMishael', 1775, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Bc4,Nf6,Nc3,O-O,O-O,c6,Bf4,d5,exd5,cxd5,Bd3,Bc5,Nb3,Bb6,Na4,Bg4,Qd2,Nc6,Nxb6,Qxb6,Be3,Qc7,Bg5,Ne4,Bxe4,dxe4,Nc5,Rfe8,Rfe1,Bf5,Re3,f6,Bh4,Rad8,Qc3,Qb6,Rae1,g5,Bg3,Kg7,f3,exf3', 'Rxe8,Rxe8,Rxe8', 'https://lichess.org/training/T8cV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t8F47', 'Rapid', 'yamilvergara', 1899, 'Valentage', 1964, 'd4,d5,Nc3,Nf6,Bf4,a6,e3,Bf5,Bd3,Bxd3,Qxd3,e6,f3,Nh5,Nge2,Nxf4,Nxf4,Bd6,h4,Nc6,g4,Bxf4,exf4,Qd6,Ne2,O-O-O,a3,h5,g5,g6,b4,Na7,c3,Kb8,a4,c6,b5,cxb5,axb5,Nxb5,O-O,Rc8,Rfb1,Rc4,Qd2,Rhc8,Rb3,Qc7,Rc1,Nd6,Kf2,Nf5,Rh1,Ka7,Qb2,b5,Ra3,Nd6,Rha1,Qb6', 'Rxa6+,Qxa6,Rxa6+,Kxa6,Qa3+,Kb7,Qxd6', 'https://lichess.org/training/t8F47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T8geI', 'Classical', 'Ogada_Peter-2', 1748, 'Asphodel', 1662, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,Nc3,Bc5,d3,O-O,O-O,Nd4,Nxe5,d6,Nf3,Bg4,Nd5,Bxf3,gxf3,Nxd5,Bxd5,c6,c3,Nxf3+,Qxf3,cxd5,d4,dxe4,Qxe4,Ba7,Qd5,Qf6,Be3,Rae8,Rae1,b4,Qb7,Qg6+,Kh1,Ra8,Rg1,Rfb8,Qxa6,Qe4+,Rg2,bxc3,bxc3,Rb1,Qf1,Rab8,Bd2', 'Rxe1,Bxe1,Rb1', 'https://lichess.org/training/T8geI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t8GrY', 'Rapid', 'manitra757', 1651, 'MehmetY03Y', 1678, 'd4,d5,Nf3,Nf6,g3,Bf5,Bg2,c5,c4,dxc4,Qa4+,Nc6,Qxc4,cxd4,Nbd2,e5,O-O,Bd6,Nh4,Be6,Qa4,O-O,Bxc6,bxc6,Qxc6,Bd5,Qa4,a5,Ng2,Rc8,Nf3,Rc4,Qd1,Re8,Bg5,Re6,Ngh4,h6,Bd2,e4,b3,exf3,bxc4,Bxc4,Nxf3,Bxe2,Qb3,Bxf3,Qxf3,g5,h4,Ne4,Rfd1,Bc5,hxg5,d3,Be3,Bxe3,fxe3,Nxg5,Qg4,Rxe3,Rd2,Kh7,Qf5+,Kg7,Rf1,Qd4,Kg2,Re2+,Rxe2,dxe2,Re1,Qd2,Qe5+,f6,Qxe2,Qd5+,Kf1,Qh1+,Kf2,Qh2+,Ke3', 'Qxg3+,Kd2,Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/t8GrY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T8IM4', 'Blitz', 'varchenko', 1881, 'Ithinkimcrazy', 1908, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,g6,d4,Bg7,Be3,Bg4,Be2,Nf6,O-O,O-O,h3,Bxf3,Bxf3,c6,Qd2,e6,Bh6,Bxh6,Qxh6,Qxd4,Rad1,Qb6,Qg5,Nd5,Ne4,Nd7,c4,f6,Qc1,f5,Ng5,N5f6,Nxe6,Rf7,b3,Nc5,Ng5,Re7,Qc3,Nce4,Nxe4,Nxe4,Bxe4,fxe4,Qf6,Rae8,h4,e3,fxe3,Qxe3+,Kh1,Qe5,Qf3,Qg7,h5,Re3,Qg4,R3e4,Qh3,R4e5,hxg6,hxg6,Kg1,Rh5,Qd3,Qh7,Rf3,Rh1+,Kf2,Qh4+,Rg3,Rf8+,Ke2,Rxd1', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/T8IM4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T8lLd', 'Rapid', 'zolight', 1735, 'polos777', 1766, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,h3,Ne7,Bg5,f6,Bh4,Be6,Nc3,a6,a3,Nd7,Be2,Nf8,O-O,Nfg6,b4,Qd7,a4,Nxh4,Nxh4,O-O-O,b5,a5,Qd3,b6,Nd1,Ng6,Nf3,Nf4,Qd2,h5,Ne3,Nxh3+,gxh3,Bxh3,Rfe1,g5,c4,Bb4,Qc2,Bxe1,Rxe1,Rde8,Bf1,Rxe3,Bxh3,Rxe1+,Nxe1,Qxh3,c5,bxc5,Qxc5,Re8,Qc1,Qg4+,Ng2,Qxd4,Qc6,Rd8,Ne3,Qb6,Qc2,d4,Qf5+,Kb8,Nc4,Qa7,Qxf6,Re8,Ne5,d3', 'Nc6+,Kb7,Nxa7', 'https://lichess.org/training/T8lLd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t8NPt', 'Rapid', 'Beister12', 2231, 'Retruco', 2296, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,e3,c6,Qc2,Nbd7,Bd3,O-O,Nge2,h6,Bh4,Re8,O-O,Nf8,Rab1,a5,a3,Ne6,b4,axb4,axb4,b5,f3,Qb6,Bf2,Ra3,h3,Ng5,e4,Bxh3,gxh3,Nxf3+,Kg2,dxe4,Nxe4,Nxe4,Bxe4,Nh4+,Bxh4,Bxh4,Qxc6', 'Qxc6,Bxc6,Rxe2+', 'https://lichess.org/training/t8NPt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t8oLB', 'Rapid', 'GinzElit', 1613, 'luckyhs123', 1505, 'e4,c6,Nf3,d5,Nc3,Bg4,Be2,e6,h3,Bxf3,Bxf3,Ne7,O-O,g6,exd5,cxd5,b3,Bg7,d4,Nbc6,Be3,Nf5,Nb5,a6,Na3,Nfxd4,Bxd4,Bxd4,Rc1,Bb2,Nb1,Qb6,c3,Bxc1,Qxc1,Rc8,Re1,Ne7,Nd2,Nf5,Bxd5,Qc5,c4,O-O,Bxb7,Rc7,Bxa6,Rd8,Ne4,Qa5,Bb5,Qxa2,Nf6+,Kg7,Qc3,Qa8,Nd5+,Kf8,Nxc7,Qb7,Na6,Nh4,f3,Ra8,Re4,Nf5,Qh8+,Ke7,Qb2,Rxa6,Bxa6,Qxa6,b4,Ng3,Re5,Qxc4,Re1,Qb5,Rc1,Qb6+,Qf2', 'Ne2+,Kf1,Qxf2+,Kxf2,Nxc1', 'https://lichess.org/training/t8oLB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t8p1h', 'Classical', 'sakatagintoki77', 1768, 'patzer0111', 1988, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,c3,dxc3,Nxc3,Bb4,e5,Ne4,Qd5,Bxc3+,bxc3,O-O,Qxe4,Ne7,Ng5,g6,Qh4,h5,Qf4,Nf5,Bd3,d5,Bxf5,Bxf5,O-O,c5,Re1,Qe7,Nf3,Rfe8,Qh6,f6,Bf4,Be4,exf6,Qxf6,Bg5,Qxc3,Nh4,Re6,f3,Rae8,fxe4,dxe4,Nxg6,e3,Rac1,Qd4,Rcd1,Qb2,Rd8', 'Qf2+,Kh1,Qxe1#', 'https://lichess.org/training/t8p1h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t8rjx', 'Rapid', 'hdyat-bung', 1908, 'aadil783', 1891, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,d4,Be7,Bxf4', 'Qe4+,Be2,Qxf4', 'https://lichess.org/training/t8rjx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T8SiL', 'Rapid', 'JZVRN', 1880, 'gorses', 1930, 'e4,d6,f4,Nf6,c3,Nxe4', 'Qa4+,Nd7,Qxe4', 'https://lichess.org/training/T8SiL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t8W4X', 'Rapid', 'salemhassan13191', 1815, 'Djoradjon', 1749, 'e4,e6,Nf3,h6,Be2,d6,h3,Nf6,Nc3,Nc6,d3,e5,O-O,d5,exd5,Nxd5,Bd2,Bb4,Nxd5,Bxd2,Nxc7+,Qxc7,Qxd2,O-O,Rfe1,Nd4,Qc3', 'Qxc3,bxc3,Nxc2', 'https://lichess.org/training/t8W4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T8YfQ', 'Rapid', 'kareematte', 1796, 'zigy89', 1826, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,a6,a3,O-O,Bg5,h6,Bh4,d6,Nd5,Bg4,Nxf6+,gxf6,Qd2,Kh7,h3,Bxf3,gxf3,Rg8,O-O-O,Nd4,Bg3,Nxf3,Qe2,Nd4,Qh5,f5,Bxf7,Rg7,exf5,Qg5+,Qxg5,Rxg5,Bg6+,Kg7,Bh4,Rg2,Bh5,Nxf5,Bg3,Nxg3,fxg3,Rxg3,Bg4,Kg6,Rhf1,Kg5,Rf5+,Kg6,Rdf1,b5,Rf6+,Kg5', 'R1f5+,Kh4,Rxh6#', 'https://lichess.org/training/T8YfQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t8YN3', 'Rapid', 'pipenk', 1809, 'mahdiafshar20', 1615, 'd4,d5,Nf3,Nf6,g3,Nc6,Bg2,Bf5,a3,e6,Nbd2,Be7,c3,O-O,b4,a6,Bb2,Ne4,O-O,Bf6,c4,dxc4,Nxc4,h6,e3,Nd6,Ncd2,Ne4,Re1,Qe7,Rc1,Rfd8,Nxe4,Bxe4,Qb3,Qd6,Red1,Ne7,Rc5,c6,Nd2,Bxg2,Kxg2,Nd5,Ne4,Qe7,Nxf6+,Nxf6,Rdc1,Rd5,Qd3,Rad8,a4,R8d7,e4,Rxc5,Rxc5,e5,Rxe5', 'Qxe5,dxe5,Rxd3', 'https://lichess.org/training/t8YN3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T8YQg', 'Blitz', 'Knox71', 2254, 'Pelotademani', 2145, 'd4,Nf6,Nf3,d5,Bf4,e6,e3,Bd6,c3,Bxf4,exf4,c5,Nbd2,Nc6,Nb3,c4,Nbd2,O-O,Be2,b5,a3,a5,b3,Rb8,b4,axb4,axb4,Bb7,O-O,Qb6,Qc2,Ra8,Ne5,g6,h3,Rxa1,Rxa1,Ra8,Rxa8+,Bxa8,g4,Nxe5,fxe5,Nd7,f4,Qa6,Kg2,Qa1,Bf3,Nb6,Nb1,Na4,Kg3,Bc6,f5,gxf5,gxf5,Kf8,fxe6,fxe6,Qxh7,Nxc3,Bh5,Ne4+,Kf4,Be8', 'Qh8+,Ke7,Qxe8#', 'https://lichess.org/training/T8YQg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T93qg', 'Blitz', 'ahmad373', 1943, 'Chubichuchu', 1953, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,a5,d4,a4,Bxd5,Qxd5,Nf3,Bg4,Nbd2,Nf6,O-O,e6,c4,Qd7,Re1,Bd6,d5,O-O,dxe6,Bxe6,a3,Nc6,Qc2,Rad8,Qc3,h6,h3,Qe7,b4,Rfe8,c5,Bc7,Bb2,Qf8,b5,Na7,b6,Bxb6,cxb6,Nc6,Kh1,Nd5,Qc2,Nf6,Qxa4,Qd6,Bxf6,gxf6,Qb5,Qf4,Qh5,Rxd2,Nxd2,Qxd2,Qf3,Qd5,Qxf6,Qg5,Qxg5+,hxg5,a4,Kg7,a5,Rd8,a6,bxa6,Rxa6,Nb4,Ra4,Nd3,Rf1,Nf4,h4,Bb3,Ra7,Be6,hxg5', 'Rh8+,Kg1,Ne2#', 'https://lichess.org/training/T93qg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T93Qy', 'Rapid', 'zingaro-cattivo', 1843, 'BHAVYAHET', 1883, 'e4,e5,Nf3,d6,Bc4,c6,O-O,Nf6,d3,g6,h3,Bg7,Re1,O-O,Nc3,a6,Bg5,Nbd7,Ne2,Qc7,c3,d5,exd5,cxd5,Bb3,Nb6,Ng3,Re8,d4,e4,Ne5,Nfd7,Bf4,Nxe5,dxe5,Bxe5,Bxe5,Qxe5,Qe2,Bd7,f3,Qxg3,fxe4,Rxe4,Qf1,Bxh3,Rxe4,dxe4', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/T93Qy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T93ZZ', 'Classical', 'TheWhiskeyPoet', 2050, 'reallynotmyfault', 2152, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,d4,e6,Bd2,Nc6,Ne4,Qb6,Bc3,O-O-O,Qd3,Nb4,Bxb4,Qxb4+,Qc3,Bxf3,gxf3,Qxd4,Qxd4,Rxd4,c3,Rd8,Bc4,h6,Rg1,Ne7,Ke2,Ng6,Bxe6+,Kb8,Bxf7,Nf4+,Ke3,g5,Rad1,Bg7,Nc5,c6,Rxd8+,Rxd8,Bc4,Kc7,Ne6+', 'Nxe6,Bxe6,Re8,f4,Rxe6+', 'https://lichess.org/training/T93ZZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t96lg', 'Blitz', 'mauriciohr1111', 1719, 'IM Yeron', 2284, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,e6,a3,d6,Nf3,Nc6,Bd2,Qc7,Bb5,a6,Bxc6+,bxc6,O-O,dxe5,dxe5,c5,Nc3,Bb7,Re1,Be7,Nxd5,Bxd5,Bf4,O-O,Rc1,Rfd8,Qe2,Qb7,Rc3,Rab8,Rc2,Qb3,Bg5', 'Bxf3,gxf3,Bxg5', 'https://lichess.org/training/t96lg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T96Yh', 'Rapid', 'vitoleali', 1682, 'nourhene', 1779, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,d6,c3,O-O,d4,Bb6,Bg5,h6,Bh4,Bg4,h3,Bh5,Be2,Bxf3,Bxf3,exd4,cxd4,Nxd4,e5,Nxf3+,Qxf3,dxe5,Rxe5,Qd4,Bxf6,gxf6,Qxf6,Qxb2', 'Rg5+,hxg5,Qxb2', 'https://lichess.org/training/T96Yh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T98pn', 'Rapid', 'ZXSpectrum48k', 1725, 'maracatrehn', 1684, 'e4,c5,f4,e6,c4,Nc6,Nf3,Nd4,b3,Nxf3+,Qxf3,Bd6,Bb2,f6,d3,Ne7,Nc3,Ng6,f5,exf5,Qxf5,O-O', 'Qd5+,Rf7,Qxd6', 'https://lichess.org/training/T98pn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t9AiB', 'Classical', 'Badger5', 1909, 'eugengen83', 1913, 'e4,e6,d4,d5,Nc3,c5,Nf3,a6,e5,cxd4,Nxd4,Qc7,Bf4,Bb4,Qf3,Ne7,Be2,Ng6,O-O,Nxf4,Qxf4,Bxc3,bxc3,Qxc3,Bd3,Nc6,Nxc6,Qxc6,Qg5,O-O,Qh5,g6,Qh6,b5,Rae1,d4', 'Be4,Qc5,Bxa8', 'https://lichess.org/training/t9AiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t9b7w', 'Rapid', 'oleg2015', 1919, 'OmegaAttack', 1751, 'e4,d6,d4,Nf6,Nc3,Nc6,Nge2,e5,d5,Nb8,Bd2,a6,f4,Bg4,Qb1,Bxe2,Bxe2,Be7,O-O,c6,dxc6,Nxc6,Rf2,O-O,Be3,Qc7,fxe5,Nxe5,Bd4,Neg4,Bxg4,Nxg4,Nd5,Qd7,Nb6,Qe6,Nxa8,Nxf2,Nc7,Nh3+,gxh3,Qxh3,Qd1,Bh4,Nd5,f5,Nf4,Qg4+,Qxg4,fxg4,Ng2,Bg5,a4,Re8,Re1,h5,Bf2,Rc8,c3,Rc4,e5,dxe5,Rxe5,Bc1,b4,Rxc3,Rxh5,Bd2,Rc5,Rb3,Rc8+,Kh7,Kh1,Rxb4,Rc2,Rb1+,Bg1,Ba5,Rc4', 'Bb6,Ne3,Bxe3', 'https://lichess.org/training/t9b7w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t9BAY', 'Rapid', 'ninjapariz', 1798, 'kotlechess', 1842, 'e4,e6,d4,d5,exd5,exd5,c4,Be6,cxd5,Bxd5,Nc3,Nf6,Bg5,b6,Bxf6,gxf6,Bb5+,c6,Nxd5,Qxd5,Bf1,Bb4+,Ke2,Nd7,Nf3', 'Qe4#', 'https://lichess.org/training/t9BAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t9BD7', 'Blitz', 'JanBargeman', 2141, 'Dukie-iv', 2144, 'e4,c6,d4,e6,c4,d5,Nc3,f5,exf5,exf5,Be2,Bd6,Nf3,Nf6,c5,Bc7,Ne5,O-O,f4,Bxe5,fxe5,Ne4,O-O,Be6,Bf3,Nd7,a3,Qh4,Ne2,Rae8,Bf4,Rf7,b3,Qe7,b4,h6,Bh5,Ref8,a4,g5,Bxf7+,Bxf7,Bd2,Bh5,b5,Kh7,Qe1,f4,Nc3,Bg6,bxc6,bxc6,a5,Ndxc5,dxc5,Qxc5+,Kh1,Qd4,Nxe4,dxe4,Bc3,Qd5,Rd1,Qe6,Rd6,Qf5,Rxc6,e3,Rc7+,Rf7,Rxf7+,Bxf7,Qxe3,Be6,Qxa7+,Kg6,Qd4,Kh5,a6,Bd7,a7,Bc6,e6,Qg4,Rg1,f3,Qxg4+,Kxg4,gxf3+,Kxf3,Rg3+', 'Kf2+,Rf3+,Bxf3#', 'https://lichess.org/training/t9BD7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t9Dxy', 'Rapid', 'dany2009s', 1733, 'Lyagushkin_Artem2009', 1798, 'd4,Nf6,e3,e6,Bc4,d5,Bb3,c5,c3,Nc6,Nd2,b6,Ngf3,Bb7,Bc2,Be7,Nb3,c4,Nbd2,O-O,O-O,b5,Re1,a6,e4,dxe4,Nxe4,Nd5,a3,Nb8,h3,Nd7,Ng3,N7f6,Ne4,Nxe4,Bxe4,Re8,Bxd5,exd5,Bf4,Bd6', 'Rxe8+,Qxe8,Bxd6', 'https://lichess.org/training/t9Dxy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T9fQY', 'Rapid', 'Yory21', 1759, 'DVRazor', 2199, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nd2,Bf5,Bb5,e6,Qa4,Qb6,Ngf3,a6,Bxc6+,bxc6,Ne5,Rc8,O-O,Be7,Nb3,O-O,dxc5,Bxc5,Nxc5,Qxc5,b4,Qxc3,Rac1,Qb2,Nxc6,Kh8,Qb3,Qxb3,axb3,Ne4,Ne7,Rce8,Nxf5,exf5,Rc7,Nd2,Ra1,Rc8,Rxa6,Rxc7,Bxc7,Rc8,f3,h6,Be5,Rc1+,Kf2,Nxb3,Ra8+,Kh7,Ra7,Kg6,h4,h5,Ra6+,f6,Bd4,f4,b5,Rc2+,Kg1,Nxd4,exd4,Rb2,b6,Rb4,Kf2,Rxd4,b7,Rb4,Ra7,Rb2+,Ke1,Kf5,Kd1,Ke5,Kc1,Rb6,Kc2,Kd4,Ra4+,Ke3', 'Ra3+,Kf2,Rb3', 'https://lichess.org/training/T9fQY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T9Mto', 'Rapid', 'wallykowalsky', 1704, 'Schwert', 1632, 'd4,d5,c4,c6,e3,Nf6,Nf3,Bf5,Nc3,e6,cxd5,exd5,h3,Bb4,Bd2,Nbd7,a3,Bxc3,Bxc3,Ne4,Rc1,Qb6,b4,O-O,Bd3,Ndf6,O-O,Qc7,Bb2,Qd7,Ne5,Qc8,Qc2,Bxh3,gxh3,Qxh3,Be2,Ng5,Qd1,Nfe4,Bg4,Qh6,f4,Nh3+,Bxh3,Qxh3,Qf3,Qxf3,Nxf3,f5,Rc2,Rf6,Ne5,Rh6,Rh2,Rxh2,Kxh2,Rf8,Rf3,Rf6,Rh3,g6,Kg2,Kg7,a4,Rf8,b5,cxb5,axb5,Rc8,Ba3,Rc2+,Kf1,a6,bxa6,bxa6,Bc5,Nxc5,dxc5,Rxc5,Rh2', 'Rc1+,Kg2,Rc2+,Kh3,Rxh2+,Kxh2,a5', 'https://lichess.org/training/T9Mto');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t9o91', 'Blitz', 'Makhedama', 1586, 'JanisGailis', 1576, 'e4,c5,Nf3,e6,Be2,d5,exd5,exd5,O-O,Nc6,Nc3,Nf6,Re1,Be7,Bb5,O-O,Bxc6,bxc6,d3,d4,Ne4,Nxe4,Rxe4,Bf5,Re5,Bg6,Bg5,Re8,Bxe7,Rxe7,Rxc5,Rc8,Re5,Rxe5,Nxe5,c5,Nxg6,fxg6,g3,a5,Qg4,Rb8,b3,Qe8,Qe4,Qf8,Re1,h6,Qe6+,Kh7,Kg2,g5,Re5,Rc8,Rf5,Qd8,Qe4,Kh8,Rd5,Qf8,Rd7,Re8,Qb7,g4,Rf7,Qg8,Rf5,Rb8,Qd5,Qc8,Qxc5,Qe6,Qe5,Qc6+,Kg1,Rc8,Qxd4,Qxc2,Qxg4,Qxd3,Rf3', 'Rc1+,Kg2,Qf1#', 'https://lichess.org/training/t9o91');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t9P5e', 'Rapid', 'F_o_r_c_e_A_z_e', 1861, 'Horseus', 1662, 'd4,Nf6,e3,d6,h3,e5,dxe5,dxe5,Qxd8+,Kxd8,Nf3,Bd6,Bc4,Ke7,Nc3,Rd8,Ng5,Be6,Nxe6,fxe6,e4,Nc6,Bg5,Bb4,O-O,Bxc3,bxc3,h6,Bxf6+,gxf6,Rad1,Rxd1,Rxd1,Rd8,Rd3,Rxd3,cxd3,Na5,Bb3,Nxb3,axb3,a5,Kf1,b5,Ke2,f5,g3,fxe4,dxe4,Kf6,f4,exf4,gxf4,e5,f5,c6,Kd3,Kg5,c4,Kf6,cxb5,cxb5,Kc3,Kg5,Kd3,Kf6,Ke3,Kg5,h4+,Kf6,Kf3', 'a4,Ke2,a3,Kd2,a2', 'https://lichess.org/training/t9P5e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t9ROV', 'Blitz', 'Arkangel1982', 1923, 'd4e5c5berlinnimzoqid', 2020, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nb3,Nf6,Nc3,e6,Be3,Qc7,Be2,a6,O-O,Be7,a3,O-O,Qd2,b5,Rad1,b4,axb4,Nxb4,Bf3,Bb7,Rfe1,Rac8,e5,Nfd5,Nxd5,Nxd5,Bxd5,Bxd5,Nd4,Bc5,c3,Qxe5,Bf4,Qf6,Be5,Qg6,Bg3,Bxd4,Qxd4,Rc4,Qe5,Qc2,Qd6,Qxb2,Rxd5,exd5', 'Qxf8+,Kxf8,Bd6+,Kg8,Re8#', 'https://lichess.org/training/t9ROV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t9SYm', 'Rapid', 'bikerpeavey', 1637, 'miklov', 1616, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,Nxc6,Bb5,Qd6,Nf3,e5,O-O,a6,Bxc6+,Qxc6,Nxe5,Qc5,d3,Qxe5,Re1,Qxe1+,Qxe1+,Be7,Bg5,O-O,Bxf6,Bxf6,Rb1,Be6,Ne4,Bd4,c3,Ba7,b3,Rfe8,Nd6,Re7,Nf5,Rd7,Qe4,Rad8,Ng3,g6,d4,Re7,h4,Rdd7,h5', 'Bf5,Qf4,Bxb1', 'https://lichess.org/training/t9SYm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T9TXu', 'Rapid', 'alhebu', 1847, 'Alexeus1', 1810, 'e4,e5,Nf3,Nf6,Bc4,a5,d3,Nc6,O-O,Bc5,Be3,Bxe3,fxe3,O-O,Nbd2,d6,h3,a4,c3,h5,Qc2,Na5,Rf2,Nxc4,Nxc4,b5,Ncd2,Bb7,Raf1,d5,exd5,Qxd5,b3,axb3,axb3,Rad8,Ne1,c5,e4,Qd6,c4,b4,Rf5,h4,Ndf3,g6,Rxe5,Nh5,Qb2,Nf4,Nxh4,Nxd3,Nxd3,Qxd3,Re1,Rd4,Re7,Bxe4,R1xe4', 'Rxe4,Rxe4,Qxe4', 'https://lichess.org/training/T9TXu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('T9X5j', 'Rapid', 'Volleyball19091', 1612, 'Djons', 1608, 'Nf3,d6,e4,e5,Bc4,Bg4,O-O,h6,h3,Bxf3,Qxf3,Nf6,d3,Be7,Nc3,c6,a3,b5,Ba2,a5,b4,axb4,axb4,O-O,Bb2,Kh8,Ne2,Nbd7,d4,d5,dxe5,Nxe4,Rfd1,Ng5,Qg3,Nb6,Nd4,Bxb4', 'Nxc6,Qc8,Nxb4', 'https://lichess.org/training/T9X5j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('t9zS0', 'Rapid', 'G0ddard', 1671, 'Artemova_Varvara2012', 1686, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,g6,Bxc6,Nxc6,d4,exd4,Nxd4,Bg7,c3,O-O,Nxc6,dxc6,Qxd8,Rxd8,Bg5,f6,Bf4,Rd7,Nd2,b5,Rad1,Re7,Rfe1,Bb7,Nb3,g5,Bg3,Rae8,f3,f5,Nc5,Bc8,exf5,Bxf5,Ne4,Bxe4,Rxe4,Rxe4,fxe4,Rxe4,Rd7,Re2,Rxc7,Rxb2,Rxc6,Rxa2,Rc5,Ra1+,Kf2,Ra2+,Kf3,Ra3,Kg4,Rxc3,Rxb5,Rc2,Ra5,Bd4,Rxg5+,Kf7,Rd5,Rc4,Rd7+,Kg6,Kh3,h5,Bf4,Bf6,g3,a5,Ra7,a4,Ra6,Rb4', 'Be5,Kf5,Bxf6', 'https://lichess.org/training/t9zS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TA0Tm', 'Blitz', 'r3s1st0r', 1688, 'munzur1', 1675, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,Nf6,f3,g6,Be3,Bg7,Qd2,Rb8,O-O-O,c5,g4,Qb6,b3,Bd7,g5,Nh5,Be2,Qb4,Nd5', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/TA0Tm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ta0XQ', 'Blitz', 'crunch02', 2370, 'NM Matthew-Fishbein', 2363, 'e4,c5,Nc3,Nc6,Bb5,g6,Bxc6,dxc6,d3,Bg7,f4,Nf6,Nf3,O-O,O-O,b6,Kh1,Ne8,Qe1,Nc7,e5,Ne6,Ne4,Nd4,Qf2,Bg4,Ne1,Qd5,h3,Bf5,Ng3,c4,c3,Ne6,Nxf5,gxf5,dxc4,Qxc4,Nc2,Rad8,Ne3,Qe4,Nc2,Nc5,Nb4,a5,Nc2,Nd3,Qf3,Qxf3,Rxf3,Nxe5', 'fxe5,Rd1+,Kh2', 'https://lichess.org/training/ta0XQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TA11I', 'Rapid', 'kalynovskyy', 1814, 'mitar843', 2080, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,O-O,d4,Bg4,h3,Bxf3,gxf3,Na5,Bc2,c5,f4,Nc6,d5,Na5,Kh2,Re8,Rg1,Bf8,f5,Nc4,b3,Nb6,Bg5,a5,c4,bxc4,Nc3,Kh8,Qf3,Qd7,Bxf6,gxf6,Rg2,Bh6,Ne2,Rg8,Rag1,Rxg2+,Rxg2,Rg8,Rxg8+,Kxg8,Qg4+,Kh8,Ng3,Bf4,Kg2,Bxg3,fxg3,cxb3,axb3,c4,bxc4,Nxc4,Qe2,Qc7,Bb3,Nb6,Qb5,Qc5,Qxc5,dxc5,d6,c4,Bxc4,a4,Bxf7,Kg7,Be6,Kf8,h4,a3,g4,Na4,Kf3,Nc3,g5,fxg5,hxg5,a2,Bxa2,Nxa2,f6,Nb4,d7,Nc6,Kg4,Kf7', 'Kf5,Nd8,Kxe5', 'https://lichess.org/training/TA11I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ta2Lp', 'Rapid', 'Botrosadel', 1794, 'smog78', 1755, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,O-O,O-O,d6,d4,exd4,Nxd4,Nbd7,f4,c6,f5,Ne5,Bb3,Qb6,Be3,Neg4,Bg5,Bxd4+,Kh1,Ne3,Bxf6,Nxd1,Bxd4,Qxd4,Raxd1,Qe5,f6,gxf6,Rf3,Bg4,Rg3,h5,Rdd3,Kh7,h3,h4,Rxg4,d5,Rxh4+,Kg6,Ne2,f5,exf5+,Kf6,Ng3,Qe1+,Kh2,Ke7,f6+,Kd7,c4,Rh8,Re4,Qa5,Re7+,Kd6,cxd5,cxd5,Rc3,Rac8', 'Nf5#', 'https://lichess.org/training/Ta2Lp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tA6cP', 'Blitz', 'navivolin321', 1846, 'ZB_Sali', 2186, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Bg4,h3,Bh5,g4,Bg6,Bxg6,hxg6,Nc3,c6,Be3,Ne7,Qd2,Nd7,O-O-O,Qa5,Kb1,O-O-O,a3,Nb6,Rde1,Nc4,Qc1,Bxa3,bxa3,Qxc3,Bd2,Qxf3,Rxe7,Qxf2,Rf1,Nxd2+,Ka2,Nxf1,Qb2,b6,Qc3,Qf6,Rxa7,Qd6,Qd3,b5,Qxf1,Kb8', 'Qxf7,Rd7,Rxd7,Qxd7,Qxd7', 'https://lichess.org/training/tA6cP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ta9cG', 'Blitz', 'AT_super_34', 1722, 'Marquinho002', 1719, 'd4,d5,Bf4,c6,e3,Nf6,c3,e6,Bd3,Bd6,Bg5,Bd7,Nf3,Be7,Bf4,Ne4,Nbd2,f5,O-O,h6,Ne5,Bg5,Qh5+,Ke7,Qf7+,Kd6,Ng6+,Bxf4,Nxf4,Nxd2,Rfd1,Ne4,Bxe4,fxe4,Ng6,Rg8', 'Qf4+,e5,Qxe5#', 'https://lichess.org/training/ta9cG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TaaUE', 'Rapid', 'tuta_0781', 1948, 'Mohsen_1362', 2000, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bd3,Bg7,Nf3,O-O,e5,dxe5,Nxe5,Nd5,Nxd5,Bxe5,Nc3,Nc6,Bh6,Re8,O-O,a6,Qf3,Nd4,Qe4,Qd6,h3,Bf5,Qd5,Qf6,Rfe1,Bxd3,cxd3,Nc6,Ne4,Qh8,Ng5,e6,Qf3,f6,Ne4,Nd4,Qd1,g5,Nc5,Rac8,Nd7,Bf4,Nb6,Rc2,Rc1,Rxb2,Rc7,Bxc7,Nd7,Rd8,Qh5,Bd6,Nb8,e5,Nxa6,bxa6,Qg4,Re8,Qd7,Rbb8,Qxd6,Red8,Qc7,Nf5', 'Qc4+,Rd5,Qxd5#', 'https://lichess.org/training/TaaUE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tabdo', 'Rapid', 'CCCP1', 1984, 'morhensinaga', 1914, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Qe2,d6,h3,O-O,c3,a6,Rd1,Qe7,d3,Be6,Bg5,h6,Bxe6,fxe6,Bh4,d5,d4,dxe4,Nxe5,Bd6,Nxc6,bxc6,Nd2,g5,Bg3,Bxg3,fxg3,Qd6,Nxe4,Nxe4,Qxe4,Qxg3,Qxe6+,Rf7,Qxc6,Qf2+,Kh1,Raf8,Qxa6,Qxb2,Qd3,Kg7,c4,Rf2,Rg1,R8f3,Qe4', 'Rxh3+,gxh3,Rh2#', 'https://lichess.org/training/Tabdo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tAcNQ', 'Rapid', 'Makric', 1713, 'mmakano', 1741, 'd4,Nc6,c4,e5,Nf3,Bd6,Nc3,h6,g3,Nf6,Bg2,O-O,O-O,Re8,e4,a6,Nd5,Nxe4,Nxe5,Bxe5,dxe5,Rxe5,Bf4,Re8,Nxc7,d6,Nxa8,Bf5,Re1,Qxa8,Qd5,Nf6,Qxf5,Rxe1+,Rxe1,Nd4,Qd3,Ne6,Bxd6,Qd8,Bxb7,Qb6,Bc8,Ng4,Bxe6', 'Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/tAcNQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TACPu', 'Rapid', 'ST96', 1771, 'Wail812003', 1760, 'e4,b6,d4,Bb7,d5,e6,c4,Nf6,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,Ne2,a6,g3,Qf3,Rg1,Qxe4,Bg2,Qxc4,dxe6,Bxg2,Rxg2,dxe6,Rc1,Qd5,Kf1,Qg5', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/TACPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tADGf', 'Rapid', 'tasahin', 1855, 'jena55', 1843, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Nxd5,c4,Qe6+,Qe2,Qxe2+,Kxe2,Nb4,Na3,N8c6,Re1,e6,Kf1,Bc5,d4,Nxd4,Nxd4,Bxd4,Re4,O-O-O,Bg5,f6,Bh4,Bxb2,Rb1,Bxa3,c5,Nc6,Rxe6,Bxc5,a4,Rd4,Bg3,Rhd8,a5,Rd1+,Rxd1,Rxd1+,Ke2,Ra1,Re8+,Kd7,Rh8,Bd6,Rxh7,Bxg3,Rxg7+,Kd6,Rxg3,Rxa5,h4,Rh5,Rh3,f5,f3,a5,g4,fxg4,fxg4,Rb5,h5,Ne5,h6,Ng6,h7,Rg5', 'Rh6,Kc5,Rxg6,Rxg6,h8=Q', 'https://lichess.org/training/tADGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tAf2d', 'Rapid', 'Sakithyan', 1710, 'Jolilaur', 1948, 'e4,d6,Nf3,e5,Bc4,Be7,d3,Nf6,Bg5,O-O,Nc3,Be6,Bxf6,Bxf6,Nd5,Bxd5,Bxd5,c6,Bb3,d5,exd5,cxd5,O-O,Nc6,Re1,Re8,c3,d4,cxd4,Nxd4,Nxd4,exd4,Qh5,g6,Qf3,Rxe1+,Rxe1,Rb8,Re4,Rc8,h3,Rc1+,Kh2,Qd6+,Qf4', 'Qxf4+,Rxf4,Be5', 'https://lichess.org/training/tAf2d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TAFq2', 'Blitz', 'IM Schaefchen', 2671, 'GM Multibrendovyi', 2771, 'e4,e6,d4,d5,Bd3,c5,exd5,exd5,Nf3,Nc6,O-O,Nf6,Re1+,Be6,Ng5,Qd7,dxc5,Bxc5,Nc3,O-O-O,Bf4,Bg4,Be2,Bf5,Na4,Bf8,Qd2,h6,Nf3,Ne4,Qe3,d4,Qb3,g5,Ne5,Nxe5,Bxe5,f6,Bb5,Qd5,Rxe4,Bxe4,Qh3+,g4,Qxg4+,f5,Qf4,Rg8,f3,Bxf3', 'Qxf5+,Rd7,Bxd7+', 'https://lichess.org/training/TAFq2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tAfyH', 'Rapid', 'yura_kudr', 1852, 'estragon89', 1968, 'e4,Nc6,Bc4,Nf6,d3,e6,h3,d5,exd5,exd5,Bb3,Bd6,a3,O-O,Ne2,Re8,O-O,h6,Ng3,Nd4,Ba2,Bxg3,fxg3,Ne2+,Kh2,c6,Nc3,Nxc1,Rxc1,Qd6,Qf3,h5,Qf4,Qxf4,Rxf4,Bd7,Rcf1,Re5,Na4,b6,Nc3,Rae8,d4,Re1,R1f2,R8e7,Bb3,Rc1,Ne2,Rb1,Rxf6,gxf6,Nf4,Ree1,g4,h4,g3,Rh1+,Kg2,Rhg1+,Kf3,Rxg3+,Ke2,Rxb2,Kd1,Rgxb3,Nh5,Be6,Nxf6+,Kg7,Nh5+,Kf8,Nf4,Rxa3,Nxe6+,Ke7,Ng5,Ra1+,Kd2,Raa2,Rxf7+,Ke8,Kd3,Rxc2,Rh7,Rd2+,Ke3,Re2+,Kf4,Rad2,Rxh4,Rxd4+,Kf5,a5,Rh8+,Kd7,Rh7+,Kd6,Rh6+,Kc5,Ne6+,Kc4,Nxd4,Kxd4,Rxc6,b5,g5,a4,g6,a3,g7,Rg2', 'Rg6,Rxg6,Kxg6', 'https://lichess.org/training/tAfyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tAgck', 'Rapid', 'PoorGarlic', 1685, 'mralastor', 1705, 'd4,h5,c3,d5,Bg5,f6,Bf4,g5,Bc1,Bg7,Nf3,Bg4,h3,Bxf3,exf3,c6,Bd3,Qb6,O-O,Nd7,Bg6+,Kd8,Re1,Kc7,Bf7,Nh6,Bxh5,Rae8,Bg4,f5,Bh5,Ref8,Rxe7,Bf6,Re1,Ng8,Bg6,Ne7,Bxf5,Nxf5,Nd2,Bd8,Nb3,Nh4,f4,Rhg8,fxg5,Bxg5,Bxg5,Rxg5,Re7,Nxg2,Kf1,Kd8,Qe2,Qc7,Qe6,Nf4,Qh6,Rh5', 'Rxd7+,Qxd7,Qxf8+,Kc7,Qxf4+', 'https://lichess.org/training/tAgck');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TAgLH', 'Rapid', 'jlmr', 1623, 'Lognu150', 1613, 'e3,e5,d3,d5,Be2,Nf6,Nd2,Nc6,Ngf3,e4,dxe4,dxe4,Nxe4,Qxd1+,Bxd1,Nxe4,O-O,Be7,c3,Bg4,a4,O-O-O,Be2,Bh4,g3,Be7,Kg2,Ne5,Nxe5,Bxe2,Re1,Bh5,g4,Bg6,f3,f6,Nxg6,hxg6,fxe4,f5,exf5,gxf5,gxf5,Rdf8,e4,Rhg8,Kf3,g6,Bh6,Rf7,Rg1,Bf8,Bf4,Bc5,Rg2,Rff8,Rxg6,Rxg6,fxg6,Bd6,g7', 'Rxf4+,Ke3,Rg4', 'https://lichess.org/training/TAgLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TAiNQ', 'Rapid', 'Marquez88', 1626, 'rafikik', 1622, 'e4,e5,g3,Nf6,Bg2,Bc5,Nc3,d6,Nf3,O-O,d4,Bb4,Qd3,Nc6,d5,Ne7,O-O,c6,Bg5,Nd7,a3,Ba5,b4,Bb6,a4,a6,a5,Ba7,Nh4,cxd5,Nxd5,f6,Be3,Nxd5,exd5,Bxe3,Qxe3,b6,Nf5,bxa5,Rxa5,Nb6,c3,Nc4,Qf3,Nxa5,bxa5,Bxf5,Qxf5,Qxa5,Qe6+,Kh8,Qxd6,Qxc3,Qe6,Rfe8,Qf7,Rad8,Rd1,a5,d6,Rf8,Qe7,a4,d7,a3', 'Qxf8+,Rxf8,d8=Q', 'https://lichess.org/training/TAiNQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TaiPZ', 'Rapid', 'Olmer_12', 1797, 'MariaPinilla', 1758, 'd4,e6,c4,d5,Nc3,c6,e3,f5,cxd5,exd5,Bd3,Nf6,Qc2,Ne4,f3,Nxc3,bxc3,Qf6,Bb2,Be7,Ne2,O-O,c4,Be6,cxd5,Bxd5,O-O,Nd7,e4,Be6,e5,Qg5,f4,Qh4,g3,Qh3,Bc4,Bf7,Bxf7+,Rxf7,e6,Rf6,exd7,Rh6,Nc3,Bf6,Rad1,Rd8,Na4,b6,Rfe1,Kf7,Rd2,b5,Qxc6', 'Bxd4+,Bxd4,Rxc6', 'https://lichess.org/training/TaiPZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TaJgd', 'Rapid', 'SelenKaya', 1738, 'Cienkibolek123', 1717, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nxc6,bxc6,Nc3,e5,Bc4,Nf6,Bg5,Be7,O-O,O-O,h3,Be6,Bxe6,fxe6,f3,Qb6+,Kh1,Qxb2,Qd3,Qb6,Rab1,Qc7,Qc4,d5,exd5,exd5,Qd3,Bd6,Rfe1,h6,Bxf6,Rxf6', 'Nxd5,cxd5,Qxd5+,Kh8,Qxa8+', 'https://lichess.org/training/TaJgd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TaKHC', 'Rapid', 'rajanandha', 1699, 'smallunicorn', 1765, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bd3,Nf6,O-O,Be7,Re1,O-O,Ne5,c4,Be2,Bd6,Ng4,Nxg4,Bxg4,Qc7,Bxc8,Bxh2+,Kh1,Rxc8,c3,Bd6,d3,Bc5,dxc4,dxc4,Be3,Bxe3,Rxe3,Rd8,Nd2,Qd6,Qe2,Nc6,Nxc4,Qh6+,Kg1,f6,Re1,b5,Rh3,Qg6,Qe6+,Qf7,Na3,Qxe6,Rxe6,Rd1+,Kh2,b4,Nb5,bxc3,Nxc3,Nd8,Re7,Rd2,b3,Rxf2,Rhe3,h6,Rg3,g5,Nd5,Kf8,Rh7,Rxa2,Rxh6,Ra6,Nxf6,Kg7,Rh5,Kxf6', 'Rh6+,Kg7,Rxa6', 'https://lichess.org/training/TaKHC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TaliA', 'Rapid', 'mr78', 1633, 'mica44110', 1667, 'd4,d5,Nf3,e6,Bg5,Be7,Bf4,Nc6,e3,g5,Be5,Nxe5,Nxe5,f6', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/TaliA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TALk5', 'Classical', 'N-giogio', 1613, 'SydB', 1642, 'd4,Nf6,Bf4,c5,Nf3,cxd4,c3,dxc3,Nxc3,Nc6,e4,e5,Nxe5,Qe7,Nxc6,bxc6,Bd3,d5,f3,dxe4,fxe4,Bg4,Qa4,Qb7,Rb1,Bc5,h3,Bd7,b4,Bd4,Ne2,Bb6', 'Ba6,Bf2+,Kxf2', 'https://lichess.org/training/TALk5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TamfK', 'Rapid', 'wahono_awam', 1961, 'misterrich', 1910, 'e4,f5,exf5,Nf6,Bc4,d5,Bb3,Bxf5,d3,e6,Ne2,Bd6,Bg5,O-O,Nd2,Qd7,O-O,Ng4,Ng3,Nf6,Nxf5,exf5,Bxf6,Rxf6,Bxd5+,Kf8,Bxb7,Rh6,f4,Bc5+,Kh1,Qe7,Bxa8', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/TamfK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tAN3v', 'Rapid', 'Steppenwolf07', 1806, 'gansenberger', 2001, 'Nf3,Nf6,d4,g6,g3,c5,d5,d6,c4,Bg7,Nc3,O-O,Bg2,a6,Qc2,e5,Bg5,Nbd7,O-O,h6,Bd2,b5,b3,b4,Nd1,Re8,Qc1,Kh7,Nh4,e4,Qc2,Qe7,f3,exf3,exf3,Ne5,Nf2,a5,Rae1,Qf8,f4,Neg4,Rxe8,Qxe8,Re1,Qf8,Nxg4,Nxg4,Be4,Bd4+,Kg2,f5,Bf3,Qf6,Bxg4,fxg4,Qe4,Bf5,Qe7+,Kg8,Nxf5,gxf5,Qxf6,Bxf6,Re6,Bc3,Be3,Rd8,Rxh6,Kg7,Re6,Kf7,Rh6,Bd4,Re6,Bxe3,Rxe3,a4,Re6,axb3,axb3,Ra8,Re2,Ra3,Rb2,Ra1,h3,gxh3+,Kxh3,Rg1,Kh2,Ra1,Kh3,Rc1,g4,fxg4+,Kxg4,Kf6,Kg3,Rg1+,Kf3,Rh1,Kg2,Rh4,Kg3,Rh8,Rh2,Rg8+,Kf3,Ra8,Rh6+,Ke7,Rh7+,Kf6,Rh6+,Kg7,Rxd6,Ra3,Rc6,Rxb3+,Ke4,Rb1,Rxc5,b3,Rb5,b2,d6,Re1+,Kf3', 'b1=Q,Rxb1,Rxb1', 'https://lichess.org/training/tAN3v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TANnf', 'Blitz', 'Naif-nd', 2038, 'Abohsham', 1865, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,c3,Nf6,Bd3,a6,Be3,Qc7,O-O,h5,f3,b6,Nd2,Bb7,Re1,b5,Rc1,Ne5,Bf1,h4,h3,Nh5,c4,b4,c5,Ng3,Bf4,f6,Bxg3,hxg3,f4,Nc6,Nxc6,Bxc6,f5,e5,Nc4,Be7,Nd6+,Bxd6,cxd6,Qb6+,Kh1,Bb5,Qd5,Rb8,Bxb5,axb5,Qd3,Qf2,Re2', 'Rxh3+,gxh3,g2+,Kh2,g1=Q#', 'https://lichess.org/training/TANnf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TAnWg', 'Rapid', 'JK_MiB', 1874, 'SahMat_2021', 1902, 'd4,d5,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,dxc4,e4,b5,a4,c6,Nf3,Nd7,axb5,cxb5,Rb1,a6,g3,Ngf6,e5,Nd5,Bg2,O-O,Qc2,f6,O-O,Bb7,Bh3,Qe7,exf6,Qxf6,Bg2,Qf5,Qxf5,exf5,Ne5,Nxe5,dxe5,Rab8,Rd1,Nxc3,Rd7,Nxb1,Bxb7,g6,Bh6,Rfd8', 'Bd5+,Kh8,Bg7#', 'https://lichess.org/training/TAnWg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('taQk6', 'Rapid', 'NorbertR', 1782, 'Vijayasubhasri', 2008, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,h6,Bc4,Bd6,O-O,O-O,Re1,Nc6,a3,e5,dxe5,Nxe5,Nxe5,Bxe5,c3,Bd6,h3,Bf5,Qf3,c6,Be3,Qe5,g3,Qf6,Bd4,Qg6,g4,Bd7,Bd3,Qg5,Qe4,f5,Bc4+,Kh8,Qg2,fxg4,hxg4,Qxg4,Qxg4,Bxg4,Re4,Bf5,Rh4,Kh7,Kg2,Rae8,Rah1,Be4+', 'Rxe4,Rxe4,Bd3,Kg8,Bxe4', 'https://lichess.org/training/taQk6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TARNk', 'Rapid', 'sherifosman111', 1887, 'Arjvul', 2024, 'Nf3,d5,d4,Nc6,Bf4,e5,Nxe5,Nxe5,Bxe5,c6,e3,Bf5,Bd3,Qd7,O-O,Nh6,c3,Ng4,Bxf5,Qxf5,Nd2,Nxe5,dxe5,Qxe5,Nf3,Qh5,Qb3,Rb8,Qa4,a6,Rad1,Be7,Qb3,O-O,Rfe1,Qf5,Qa4,Bf6,e4,dxe4,Qxe4,Qb5,Qc2,Qc5,c4,b5,b3,h6,Nd2,Rbd8,Ne4,Rxd1,Rxd1,Qf5,Nxf6+,Qxf6,cxb5,cxb5,Rc1,Re8,g3,Qf3,Qc6', 'Re1+,Rxe1,Qxc6', 'https://lichess.org/training/TARNk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tasvv', 'Classical', 'simi_andresito', 1770, 'Jelirium', 1779, 'c4,c5,Nc3,g6,h3,Bg7,e4,Nc6,a3,Qc7,Nf3,b6,Nb5,Qb8,Bd3,Bb7,Rb1,Nf6,Qe2,O-O,Nc3,Nh5,Kd1,Nf4,Qf1,Qd6,Nd5,Nxd3,Qxd3,e6', 'Nf6+,Bxf6,Qxd6', 'https://lichess.org/training/tasvv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tasvY', 'Blitz', 'IM FatherGascoigne', 2302, 'hiimokg', 2377, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,Nf6,Nc3,Ng4,Qxg4,Nxd4,Qd1,e5,Bd3,d6,O-O,Be6,f4,O-O,Kh1,Rc8,b3,exf4,Bxf4,a6,Rc1,Be5,Bh6,Re8,Qd2,Qh4,Bf4,Qe7,Bg5,Qc7,Qf2,Nc6,Nd5,Qa5,Nf6+,Kg7,Nxe8+,Rxe8,Bf6+,Kg8,c5,Nb4,Bb1,Bxf6,Qxf6,dxc5,e5,Nxa2,Bxa2,Qxa2,Rxc5,Qxb3,Rfc1,b5,h3,a5,Kh2,a4,Rc7,a3,Ra7,a2,Rcc7,Qd5,Re7,Rb8,Ra6,b4,Rexe6,Qxe6,Rxe6,a1=Q,Re7,Qa2,e6,Rf8,exf7+,Rxf7', 'Re8+,Rf8,Qxf8#', 'https://lichess.org/training/tasvY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TAVAF', 'Blitz', 'abo_treka', 1924, 'eranw', 2014, 'e4,c5,Nf3,Nc6,Nc3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nf3,a6,e5,dxe5,Qxd8+,Kxd8,Bg5,Be7,O-O-O+,Kc7,Rd2,b5,Bd3,Bb7,Bxf6,Bxf6,Be4,Nd4,Bxb7,Kxb7,Ne4,Nxf3,gxf3,Be7', 'Rd7+,Kb6,Rxe7,Ra7,Rxa7', 'https://lichess.org/training/TAVAF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('taWoj', 'Classical', 'rmamedun', 1705, 'M2020m800', 1817, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,a3,d6,h3,Be7,Nc3,O-O,Be3,a6,O-O,b5,Bd5,Nxd5,Nxd5,Bf6,Nd2,Bb7,Qf3,Nd4,Nxf6+,Qxf6,Qxf6,gxf6,Bxh6,Rfe8,Nb3,Nxc2,Rac1,Kh7,Be3,Nxe3,fxe3,c5,Rxf6,Kg7,Rcf1,Re7,Rxd6,c4,dxc4,bxc4,Nc5,Bc8,Rc1,Be6,Rxa6,Rd8,Nxe6+,fxe6,Rxc4,Rd1+,Kh2,Rd2,Rb4,Kf6,a4', 'Rg7,Rxe6+,Kxe6', 'https://lichess.org/training/taWoj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TAxkY', 'Blitz', 'tisa67', 1931, 'kinglekh', 1828, 'd4,c6,c4,d5,Nf3,Nf6,Nc3,Bg4,g3,e6,Bg2,Nbd7,O-O,Qc7,Bf4,Bd6,Bxd6,Qxd6,cxd5,exd5,Re1,O-O,h3,Bh5,g4,Bg6,Nh4,Rfe8,Nxg6,hxg6,Qc2,c5,Rad1,c4,e4,dxe4,Nxe4,Nxe4,Rxe4,Rxe4,Bxe4,Qb4,Bd5,Nb6,Bxb7,Rb8,Bg2,Na4,Bd5,Nxb2,Rb1,c3,Qxg6,Qe7,Qc2,a5,Qxc3,Rd8,Rxb2,Rxd5,Rb8+,Kh7,Qe3,Qd6,Qe8,Rxd4,Qh8+,Kg6,Qh5+,Kf6,Qf5+,Ke7,Rb7+,Kd8,Rxf7,Rd1+,Kg2,Qc6+,Kg3,Rg1+,Kh4', 'Qh6+,Qh5,g5#', 'https://lichess.org/training/TAxkY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tAYq4', 'Rapid', 'bozoprotudjer', 2116, 'Johan98', 2383, 'e4,e5,Bc4,Nf6,d3,c6,Bb3,a5,a4,d5,f3,Bc5,Ne2,Rg8,Bg5,Qb6,Kf1,h6,Bxf6,gxf6,exd5,cxd5,Nbc3,d4,Ne4,Be7,Qd2,f5,N4g3,Bg5,f4,Be7,fxe5,Bg5,Qd1,Nc6,Qe1,Be6,Nc1,Be3,Qe2,Nxe5,Qh5,Bd7,Ke2,Rg5,Qh4,f4,Ne4,Rxg2+,Kf1,Qg6,Nf6+,Qxf6,Qxf6', 'Rf2+,Ke1,Nf3+,Kd1,Rd2#', 'https://lichess.org/training/tAYq4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tAz1e', 'Rapid', 'VargLC', 1706, 'Questos', 1685, 'e4,c5,Nc3,d6,Bc4,Nf6,d3,g6,Bg5,Bg7,Bxf6,exf6,Qf3,Be6,Bb5+,Bd7,e5,fxe5,Qxb7,Bxb5,Qxa8', 'Bc6,Qxa7,Bxg2', 'https://lichess.org/training/tAz1e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tazcC', 'Blitz', 'Brale', 1544, 'alikmonzer', 1567, 'e4,c5,Bc4,e6,Nf3,a6,h3,Nc6,O-O,Qc7,a3,Nf6,d4,Nxe4,Re1,Nf6,dxc5,Bxc5,Nc3,O-O,Ne4,Nxe4,Rxe4,b5,Bb3,Bb7,Be3,Bxe3,Rxe3,Na5,Rc3,Qd8,Rd3,d5,a4,Nxb3,cxb3,Rc8,axb5,axb5,Rc3,Ra8,Rc5,Rxa1,Qxa1,Qb6,b4,Ra8', 'Qxa8+,Bxa8,Rc8+,Qd8,Rxd8#', 'https://lichess.org/training/tazcC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tazHs', 'Rapid', 'Stoecky', 1600, 'Private343', 1589, 'e4,c6,Nf3,d5,e5,Bg4,h3,Bh5,g4,Bg6,d4,e6,Nc3,Nd7,h4,h6,h5,Bh7,Rg1,c5,Bb5,a6,Bxd7+,Qxd7,dxc5,Bxc5,g5,g6,gxh6,Nxh6,hxg6,Bxg6,Bxh6,Rxh6,Ng5,O-O-O,Ne2,Rf8,Nf4,Kb8,Qd2,Bb4,Qxb4,Rc8,O-O-O', 'Rxc2+,Kb1,Rc4+,Nxg6,Rxb4', 'https://lichess.org/training/tazHs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tazlA', 'Rapid', 'HoSsAmElKaTeB', 1941, 'Ammine', 1890, 'e4,e6,d4,d5,Nc3,c5,Nf3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Bb5,Nc6,O-O,a6,Bxc6,bxc6,Ne2,Rb8,Rb1,cxd4,Nexd4,Bb7,c3,O-O,Qa4,Nc5,Qc2,Ne4,b4,f5,exf6,Rxf6,Ne5,Qd6,Ng4,Rg6,f3,Ng5,Rbe1,c5,bxc5,Qxc5,Kh1,Rc8,Re3', 'Qxd4,cxd4,Rxc2', 'https://lichess.org/training/tazlA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TAzxv', 'Rapid', 'vx9mcz', 1761, 'MaxBologna', 1680, 'g4,c5,Bg2,d5,d3,h5,c4,hxg4,cxd5,Nf6,Qb3,Qd6,Nc3,Rxh2,Rxh2,Qxh2,Kf1,g3,Qb5+,Nbd7,f3,a6,Qa4,g6,Bf4,Bh6,Bxh6,Qxh6,Ne4,Nxe4,dxe4,Qe3,Nh3,b5,Qb3,Qxb3,axb3,Ne5,Nf4,Bb7,Bh3,g5,Nd3,Nxd3,exd3,Bc8,Kg2,Bxh3+,Kxh3,f6,Kxg3,a5,Kg4,Kf7,Kf5,a4,bxa4,Rxa4,Rxa4,bxa4,f4,gxf4,Kxf4,Kg6,Ke3,Kg5,d4', 'c4,d6,exd6', 'https://lichess.org/training/TAzxv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TB2kg', 'Classical', 'lmachs', 1775, 'commonsenseii', 1816, 'd4,d6,c4,g6,Nc3,Bg7,Nf3,Nf6,Bg5,h6,Bh4,O-O,Qd2,Re8,e4,e5,O-O-O,exd4,Nxd4,g5,Bg3,Nc6,Nxc6,bxc6,e5,Nh5,Be2,Nxg3,hxg3,Bxe5,Rxh6,f5,Rdh1,f4,gxf4', 'Bxf4,Qxf4,gxf4', 'https://lichess.org/training/TB2kg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tB456', 'Blitz', 'osmar110656', 1636, 'EL337ch355', 1676, 'e4,e5,Nf3,Nf6,Bc4,Nc6,Ng5,d5,exd5,Nxd5,Qf3,Be6,Nxe6,fxe6,Bxd5,exd5,Nc3,Nd4,Qd3,Bc5,O-O,O-O,Re1,Qf6,Rf1,Rad8,Ne2,Nxe2+,Qxe2,e4,d3,Rde8,dxe4,Rxe4,Qd3,Bxf2+,Kh1,Re1,Qxd5+,Kh8,Bg5,Rxf1+,Rxf1,Qa6,Rxf2', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/tB456');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tb5d2', 'Classical', 'PieceOfCheckmate', 1825, 'Psger', 1834, 'Nf3,d5,d4,Nf6,g3,c6,Bg2,Bg4,O-O,Nbd7,c4,Bxf3,Bxf3,e5,dxe5,Nxe5,Bg2,dxc4,Nd2,Qc7,Qc2,b5,a4,Bc5,axb5,Rd8,Nxc4,cxb5,Nxe5', 'Bxf2+,Kxf2,Qxc2', 'https://lichess.org/training/Tb5d2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tb7yO', 'Rapid', 'vtk2001', 1699, 'newg', 1878, 'Nf3,d5,g3,Nc6,Bg2,Nf6,O-O,e5,d3,h6,c3,Bg4,h3,Bh5,g4,Bg6,Nh4,Bh7,Nf5,Bxf5,gxf5,Qd7,e4,d4,cxd4,Nxd4,Nc3,O-O-O,Re1,g6,Ne2,gxf5,Nxd4,Qxd4,exf5,Rg8,Qb3,Qd5,Qxd5,Rxd5,Kf1,Rxd3,Rxe5,Bd6,Re3,Rd1+,Ke2,Rg1,Bf1,Nd5,Re4,f6,Bxh6,Rh8,Bd2,Rh5,Rd1,Rxf5,h4,Rh5', 'Bh3+,Kd8,Rxg1', 'https://lichess.org/training/Tb7yO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tB9Sc', 'Rapid', 'BuddhaJesusloveme', 1931, 'Evgenik1984', 1988, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,Bb4,f3,Qb6,Qd2,Qc7,Ndb5,Qd8,Nd6+,Bxd6,Qxd6,Qe7,Qc7,O-O,O-O-O,Qb4,Nb5,d5,a3,Qa4,Bc5,Rd8,Nd6,Rd7,Bb5,Qxc2+,Kxc2,Rxc7,Nxc8,Rcxc8,Kb1,dxe4,fxe4,Nxe4,Be3,a6,Bd3,Nf6,Be2,Rd8,Rc1,Nd5,Bd2,Nd4,Bc4,b5,Bxd5,Rxd5,Bc3,Ne2,Rc2,Nxc3+,Rxc3,Rad8,Rhc1,Rd1,Rc6,Rxc1+,Kxc1,Ra8,Kc2,g6,Kc3,Kg7,Kb4,a5+,Kc5,Kf6,Rb6,b4,a4,Rc8+,Kb5,Rc2,Kxa5,Rxb2,Rxb4,Rxg2,Kb6,Rxh2,a5,Ra2,a6,h5,a7,g5,Rb5,h4', 'Ra5,Rxa5,Kxa5', 'https://lichess.org/training/tB9Sc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tBAlk', 'Rapid', 'vaccy123', 1816, 'OviMitran', 1680, 'e4,g6,d4,Bg7,Nf3,c6,c4,d6,Nc3,Nh6,h3,O-O,Bd3,e5,d5,f5,Bg5,Qb6,Qd2,fxe4,Bxe4,Nf5,Rd1,Nd7,Ne2,Nc5,Bc2,e4,Nfg1,Qxb2,g4,e3,fxe3,Ng3,Nxg3,Bc3,Qxc3,Qxc3+,Rd2,Qxc4,N1e2,Qxa2,dxc6,bxc6,Be7,Re8,Bxd6,Nb3,Bxb3+,Qxb3,Bc5,Rxe3,Bxe3,Qxe3,Rd8+,Kf7,Rf1+,Ke7,Rdf8,Be6,Rxa8,Bc4,Rxa7+,Qxa7,Rf4,Qa5+,Kf2,Qc5+,Kg2,Bxe2,Nxe2,Qe5,Rf2,Qe4+,Kf1,c5,Nc3,Qc4+,Re2+,Kd6,Ne4+,Kd5,Nf6+,Kd4,Kf2,Qc3', 'Re4+,Kd3,Re3+,Kc4,Rxc3+', 'https://lichess.org/training/tBAlk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbapz', 'Classical', 'Giselher', 1727, 'Sujet', 1894, 'd4,Nf6,f4,d5,Nf3,e6,e3,c5,c3,Nc6,Bd3,c4,Bc2,b5,O-O,a5,Nbd2,b4,e4,bxc3,bxc3,a4,e5,Nd7,Bxa4,Qc7,Ne1,Be7,Bc2,f5,Rf3,g6,a4,Qa5,Ba3,Bxa3,Rxa3,Rb8,Rf1,O-O,Nef3,Ba6,Ng5,Rfe8,Qf3,Rb2,Qd1,Nf8,Rf3,Reb8,Ra1,Bc8,Rb1,Qb6,Rf1,Qa5,Rf3,Qb6,Rf1,Nxd4,cxd4,Qxd4+,Kh1,Qc3,Rc1,Qb4,Rb1,Ba6,Rxb2,Qxb2,Qb1,c3,Qxb2,Rxb2,Rb1,Rxc2,Nb3,Rb2,Rxb2,cxb2,Nd2,h6,Ngf3,Bd3,Nd4,b1=Q+,Nxb1,Bxb1,Kg1,Bd3,Kf2,Kf7,Ke3,Ba6,Kd2,Nd7,Kc3,g5,g3,Nc5,Kb4,gxf4', 'Kxc5,fxg3,hxg3', 'https://lichess.org/training/tbapz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TbaSq', 'Rapid', 'bpchassain', 1813, 'Cyanogen', 1709, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,a3,c5,c3,cxd4,cxd4,Nc6,Bb5,Ne7,O-O,a6,Bxc6+,Nxc6,b4,Bg4,Be3,Be7,Nbd2,Qb6,Nb3,O-O,Nc5,Bxf3,Qxf3,a5,Nd7,Nxd4,Qf4,Ne2+,Kh1,Nxf4,Nxb6,Rad8,Bxf4,axb4,axb4,Bxb4,Ra7,Bc5,Rxb7,Bxb6,Rxb6,h6,Rd6,g5,Bd2,Rb8,f4,Rb2,Rd1,Rc8,fxg5,Rxd2,Rg1,hxg5,Rb6,Kg7,Rb3,Kg6,Rg3,Rdc2,h4,Kh5,hxg5,Rc1,Kh2,Rxg1,Kxg1,Kh4,Kh2,d4,Rf3,Rh8', 'Rh3+,Kxg5,Rxh8', 'https://lichess.org/training/TbaSq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbb2X', 'Blitz', 'KarelInfeld', 1693, 'Jadvan', 1678, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Bxc6,Nxc6,c3,Bc5,d4,exd4,cxd4,Ba7,d5,Ne7,Bg5,O-O,Nc3,d6,b4,Bg4,Qd3,Qd7,e5,Ng6,exd6,cxd6,Ne4,Bf5,Qc4,Rfe8,Nc3,Rac8,Qb3,Bg4,Nd2,Bd4,Rac1,Qf5,Be3,Bxc3,Rxc3,Ne5,Rfc1,Rxc3,Rxc3,b5,h3,Be2,Bd4,Nc4,Nxc4,Bxc4,Qc2', 'Re1+,Kh2,Qf4+,Rg3,Qxd4', 'https://lichess.org/training/tbb2X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TBB6H', 'Blitz', 'Rimbombante', 2314, 'FM waltereador', 2260, 'e4,c6,d3,d5,Nf3,Bg4,Be2,e6,O-O,Nf6,c3,dxe4,dxe4,Qxd1,Rxd1,Nxe4,Be3,Nd7', 'Rxd7,Kxd7,Ne5+', 'https://lichess.org/training/TBB6H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbc8K', 'Rapid', 'kwokamole', 1823, 'runvhe', 1815, 'd4,g6,e3,Bg7,Bd3,d6,f4,Nc6,Nf3,f6,O-O,e5,fxe5,fxe5,dxe5,Nxe5,Nxe5,Bxe5,e4,Qh4,h3,Bg4', 'Qxg4,Qxg4,hxg4', 'https://lichess.org/training/tbc8K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TbCrM', 'Rapid', 'Dimus', 1749, 'Arian123', 1607, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,Nbd7,O-O,e6,Bxe6,fxe6,Nxe6,Qa5,Bd2,Qe5,Nxf8,Nxf8,Re1,Ng6,Nd5,O-O,Bc3,Qh5', 'Nxf6+,gxf6,Qxh5', 'https://lichess.org/training/TbCrM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tBCtj', 'Rapid', 'AsgerBob', 1694, 'Asigno', 1674, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Bb4,a3,Bxc3+,bxc3,h6,Bxf6,Qxf6,cxd5,exd5,h3,Nc6,e3,Bf5,Bb5,a6,Bd3,O-O,Nf3,Qg6', 'Nh4,Bxd3,Nxg6', 'https://lichess.org/training/tBCtj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TBdel', 'Rapid', 'ibvolf', 1975, 'stepan_banderas', 1969, 'b3,d5,Bb2,f6,e3,Be6,Nc3,Bf7,Nf3,e5,d4,e4,Nd2,f5,Be2,Nf6,O-O,c6,f3,Nbd7,fxe4,fxe4,a4,a5,Ba3,Bb4,Bxb4,axb4,Na2,Qe7,Nb1,b6,Qe1,c5,Bb5,O-O,Nc1,Be8,Ne2,g5,Ng3,Bg6,Nf5,Bxf5,Rxf5,h6,c3,bxc3,Nxc3,Qe6,Bxd7,Qxd7,Re5,Rad8,a5,bxa5,Rxa5,cxd4,exd4,Qc7,Rc5,Qb6,Nxd5,Nxd5,Rcxd5,Rxd5,Rxd5,Qxb3,Qxe4', 'Qd1+,Qe1,Qxe1#', 'https://lichess.org/training/TBdel');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbDO7', 'Blitz', 'basket87', 1834, 'ak-tr', 1836, 'd4,e6,e4,c6,c4,Bb4+,Bd2,Bxd2+,Nxd2,Ne7,d5,exd5,exd5,cxd5,cxd5,Nxd5,Bc4,Ne7,Ngf3,d5,Bb5+,Nbc6,O-O,O-O,Re1,Qc7,Qe2,Be6,Bxc6,bxc6,Ng5,Ng6,Nxe6,fxe6,Qxe6+,Kh8,Nf3,a5,Ne5,Nxe5,Rxe5,Rac8,Rae1,h6,Qg6,Qb8,Re7,Rg8,R1e6,Qxb2', 'Qxh6+,gxh6,Rxh6#', 'https://lichess.org/training/tbDO7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbDVw', 'Rapid', 'Grandmasterbeat', 1709, 'aleksandrasilinahse', 1789, 'Nf3,d5,g3,Bf5,Bg2,Nc6,d3,Nf6,Nbd2,g6,O-O,Bg7,Re1,O-O,e4,dxe4,dxe4,Be6,e5,Ng4,h3,Ngxe5,Nxe5,Bxe5', 'Bxc6,bxc6,Rxe5', 'https://lichess.org/training/tbDVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbDx9', 'Classical', 'AhmadNe', 1633, 'andriy_1', 1639, 'e4,c5,Nf3,e6,d4,Nc6,Bd3,cxd4,Bb5,Bc5,Bxc6,dxc6,c3,d3,Ne5,Bxf2+,Kxf2,Qh4+,g3,Qxe4,Nxd3,Nf6,Re1,Qf5+,Bf4,O-O,Ne5,Ne4+,Kg1,f6,Nf3,g5,Be3,b6,Nbd2,Ba6,Nxe4,Qxe4,Kf2,Rad8,Bd4,Qf5,Qa4,g4,Qxa6,Qxf3+,Kg1,e5,Bf2,Rd2,Qf1,Rfd8,Qg2,Rxf2', 'Qxf2,Qxf2+,Kxf2', 'https://lichess.org/training/tbDx9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TBDXY', 'Rapid', 'osama505', 1927, 'Eugene2001', 1873, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,e6,O-O,Qc7,f4,Be7,f5,exf5,exf5,Nf6,Nc3,O-O,Ne4,d5,Ng3,Bd6,Nh5,Bxh2+,Kh1,Nxh5,Qxh5,Be5,f6,g6,Qh6,Bxf6,Rxf6,Re8,Bg5,Be6,Raf1,Rad8,Bf4,Qb7,Be5,Qe7,Rxe6,fxe6,Bf6,Qf8,Qg5,Rd7,Rf3,e5,Bxe5,Qb4,Qf6', 'Qe1+,Kh2,Qxe5+', 'https://lichess.org/training/TBDXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TBEEb', 'Rapid', 'RandomTask', 1847, 'bilis', 1799, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,Nf6,cxd5,cxd5,Qb3,Qc7,Bf4,Qb6,Nxd5,Nxd5,Qxd5,e6,Qb3,Bb4+,Bd2,Nc6,e3,O-O,Be2,Be4,Bc3,Rac8,O-O,Bd5,Qa4,Bd6,Rac1,f5,Nd2,g5,Bc4,Qc7,h3,g4,Bxd5,exd5,Qb3,gxh3,Qxd5+,Rf7,f4,Ne7,Qe6,hxg2,Rf3,Ng6,d5,Rd8,Rg3,Rd7,Nf3,Re7,Rxg6+', 'hxg6,Qxg6+,Rg7', 'https://lichess.org/training/TBEEb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbfmj', 'Blitz', 'tankeroldan', 1706, 'Chicken_N_Eggs', 1994, 'e4,g6,Nf3,Bg7,d4,d6,Bc4,Nf6,Be3,Nxe4,h4,d5,Bb3,Bg4,h5,Bxh5,Rxh5,gxh5,Nbd2,Nf6,Ne5,Nbd7,f4,c6,Ndf3,Ne4,Qe2,a5,a4,Ndf6,Ng5,Nxg5,fxg5,Ne4,O-O-O,Qd6,Qxh5,Bxe5,dxe5,Qxe5,Bd4,Qf4+,Kb1,Rf8,Qxh7,Qxg5,Ka2,O-O-O,c4,dxc4,Bxc4,e5,Bb6,Rxd1,Qh3+,f5,Qh7,Rd7,Be6,Qd2,Bxd7+,Qxd7,Qh2,Qd5+,Ka1,Nd2,Qh7,Qd7,Qh2,f4,Qh5,Nb3+,Ka2,Nc1+,Kb1,Nd3,Qg5,Re8,Bxa5,e4,Bb6,e3,Qa5,Qd6,Qa8+,Qb8,Qa5,e2', 'Qf5+,Re6,Qxe6#', 'https://lichess.org/training/tbfmj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tbgd3', 'Rapid', 'bwonder01', 1695, 'Serkanizm', 1641, 'd4,Nc6,Nf3,d5,c4,Bg4,Nc3,e6,cxd5,exd5,e3,h6,Be2,Nf6,O-O,Qd7,Bb5,a6,Bxc6,Qxc6,Qb3,Bxf3,gxf3,O-O-O,Bd2,Qe6,Na4,Qh3,Bb4,b6,Bxf8,Rhxf8,Rac1,Kb7,Nc5+,Ka7,Na4,Rd7', 'Rxc7+,Rxc7,Qxb6+,Ka8,Qxc7', 'https://lichess.org/training/Tbgd3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tBgXl', 'Classical', 'Sarlesch', 1646, 'mimohodom', 1661, 'd4,c6,c4,g6,e4,Bg7,Nf3,d6,Be2,Bg4,O-O,Nd7,h3,Bxf3,Bxf3,c5,d5,a6,Nc3,Rb8,Be2,b5,cxb5,axb5,Bxb5,Bxc3,Bxd7+,Qxd7,bxc3,Nf6,Qc2,O-O,Be3,Rb7,Rab1,Rfb8,Rxb7,Qxb7,e5,Nxd5,exd6,exd6,Bh6,Ne7,Qd2,Nf5,Bf4,Rd8,g4', 'Nh4,f3,Nxf3+,Rxf3,Qxf3', 'https://lichess.org/training/tBgXl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tBHLW', 'Rapid', 'ianbrown8', 1878, 'John0806', 1878, 'e4,c5,Nf3,Nc6,Nc3,d6,d4,cxd4,Nxd4,Nf6,h3,e6,Be3,Be7,Qd2,d5,exd5,Nxd5,Nxd5,Qxd5,Nxc6,Qxc6,a4,O-O,Bb5,Qxg2,O-O-O,a6,Rdg1,Qf3,Rxg7+,Kxg7,Qc3+,Bf6', 'Bh6+,Kxh6,Qxf3', 'https://lichess.org/training/tBHLW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TbI0Z', 'Rapid', 'DoctorFuu', 1895, 'knightvision', 1908, 'e4,c5,g3,d6,Bg2,Nf6,Ne2,Nc6,c3,e5,h3,Be6,d4,cxd4,cxd4,exd4,Nxd4,Qa5+,Nc3,Bc4,Nxc6,bxc6,Bd2,Qb6,b3,Ba6,Be3,Qc7,f4,Be7,Kf2,O-O,Re1,Rfd8,Qc2,Rac8,Rac1,Nd7', 'Nd5,cxd5,Qxc7,Rxc7,Rxc7', 'https://lichess.org/training/TbI0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbi2q', 'Blitz', 'pisdecan', 1641, 'fil404', 1603, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Qc2,cxd4,a4,a5,Bb5,Bd7,O-O,dxc3,Nxc3,Bc5,Bf4,Nge7,Rad1,Ng6,Bg3,O-O,h4,Rac8,h5,Nb4,Qe2,Bxb5,Nxb5,Ne7,Ng5,h6,Nh3,Nf5,Bf4,Nd4,Qg4,Nf5,Ng5,hxg5,Bxg5,Rcd8,h6,g6,Bf6,Nxh6,Qh3,Kh7,Rc1,d4,Rce1,d3,Re4,d2', 'Qxh6+,Kxh6,Rh4#', 'https://lichess.org/training/tbi2q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TBIA5', 'Blitz', 'YoungBeta', 2439, 'alaaha', 2323, 'c4,c5,Nc3,Nc6,Nf3,e5,e3,Nf6,d4,cxd4,exd4,e4,Ne5,Bb4,Be2,O-O,O-O,h6,Be3,d6,Nxc6,bxc6,Qa4,Bxc3,bxc3,Bd7,h3,d5,c5,Qc7,Rab1,Rab8,Rb4,a5,Rb3,g5,Rfb1,Rxb3,axb3,g4,hxg4,Bxg4,Bf1,Kg7,Ra1,Ra8,b4,Bc8,bxa5', 'Ng4,g3,Nxe3,fxe3,Qxg3+', 'https://lichess.org/training/TBIA5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbigX', 'Rapid', 'RBudiS', 1677, 'TheAlexandre', 1992, 'e4,e5,a3,Bc5,Nc3,d6,Nf3,Bg4,Be2,Nf6,b4,Bxf3,Bxf3,Bd4,Bb2,Qd7,O-O,a6,Rb1,O-O,Ne2,Bxb2,Rxb2,Qa4,Ra2,Nc6', 'Nc3,Qb5,Nxb5', 'https://lichess.org/training/tbigX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TBioi', 'Blitz', 'VladmirCortelinho', 2419, 'FM Lastro', 2555, 'd4,Nf6,c4,e6,Nf3,Bb4+,Nbd2,d5,Qa4+,Nc6,e3,O-O,Bd3,dxc4,Bxc4,Bd6,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Nf3,Bd6,Rd1,Qe7,Bd2,Bg4,Be2,Ne4,Be1,f5,Qb3+,Kh8,h3,Bh5,Nd4,Bxe2,Nxe2,Rf6,Qxb7,Raf8,Nf4,Bxf4,exf4,Rb6,Qxa7,Rxb2,Qd4,Rfb8,a4,h5,a5,c5,Qd5,Qh4,Qxf5,Nxf2,Rd5,Qg3,Qxh5+,Kg8,Rd2,Rxd2,Bxd2,Qd3,Rf1,Qxd2,Rxf2,Rb1+,Rf1', 'Qe3+,Kh2,Rxf1', 'https://lichess.org/training/TBioi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TBJge', 'Classical', 'George_thomas', 1859, 'aficionado2005', 1845, 'e4,d5,exd5,Nf6,Nf3,Nxd5,h3,Nc6,a3,e5,d3,Bd6,Be2,O-O,O-O,f5,Bg5,Nf6,Nc3,h6,Bc1,Be6,Nb5,a6,Nxd6,cxd6,c3,Qc8,Nh4,Rd8,f4,Ne7,Qe1,exf4,Bxf4,g5,Qg3,Kh7,Bxg5,hxg5,Qxg5,Rg8,Qxf6,Ng6,Nxg6,Rxg6,Qh4+,Rh6,Qe7+,Kh8,Rf4,Qg8,Kh2,Re8,Qxd6,Qg6,Raf1,Rg8,R1f2,Qg3+,Kh1', 'Rxh3+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/TBJge');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tBjpC', 'Classical', 'Caruso_89', 1713, 'jeremiebas', 1718, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,a6,Ba4,b5,Bb3,Nxe4,Re1,d5,d3,Nc5,Nxe5,Nxe5,Rxe5+,Be7,Bxd5,Bb7,Bxb7,Nxb7,Qe2,f6,Re6,Nc5,Rc6,O-O,b4,Na4,Bf4,Re8,Re6,Bxb4,a3,Rxe6', 'Qxe6+,Kh8,axb4', 'https://lichess.org/training/tBjpC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbK3Y', 'Blitz', 'carljk', 1878, 'Ernestod', 1873, 'd4,e6,Bf4,Bb4+,c3,Be7,e3,a6,Bd3,d6,Nd2,Nd7,Ngf3,b6,Qc2,h6,Be4,d5,Bd3,Bb7,Ne5,g5,Bg3,Nxe5,Bxe5,Bf6,Bg3,h5,h3,h4,Bh2,Be7,Nf3,Bd6,Ne5,Qe7,Nxf7,Kxf7,Bg6+,Kf8,f4,Nf6,fxg5,Ne4,Rf1+,Kg7,Bxe4,dxe4,O-O-O,Bxh2,Qf2,Raf8,Qe2,Bg3,Qg4,Kg6,Rf6+,Rxf6,gxf6+,Kxf6', 'Rf1+,Bf4,Rxf4#', 'https://lichess.org/training/tbK3Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tBkhm', 'Rapid', 'MohamedEssam69', 1823, 'kapungiswinner', 1895, 'g3,d5,Bg2,c5,Nf3,Nc6,O-O,e6,d4,cxd4,Nxd4,Nf6,c4,Bc5,Nxc6,bxc6,cxd5,cxd5,Nc3,O-O,Na4,Bb6,Nxb6,Qxb6,b3,Bb7,Bb2,Ne4,Bd4,Qd6,Qc2,a5,f4,f5,Bxe4,dxe4,Bc5,Qc6,Rac1,e3,Rf3,Rfc8,Qc4,Ba6,Qd4,Bxe2,Rxe3,Bg4,Rec3,Bh3,Qxg7+,Kxg7,Bd4+,e5,Bxe5+,Kg6,Rxc6+,Rxc6,Rxc6+,Kh5,Rc7,h6,Rh7,Rc8,Rc7,Rd8,Bb2', 'Rd1+,Kf2,Rd2+,Ke3,Rxb2', 'https://lichess.org/training/tBkhm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TbkiP', 'Rapid', 'Ali7044', 2183, 'NOT_Thomas', 2069, 'e4,e6,d4,d5,Nd2,c5,c3,Nf6,e5,Nfd7,Bd3,Nc6,Ne2,Be7,O-O,O-O,h3,c4,Bb1,b5,f4,Nb6,Ng3,g6,Ne2,b4,g4,a5,f5,exf5,gxf5,f6,fxg6,fxe5,gxh7+,Kh8,Rxf8+,Qxf8,Qf1,Qxf1+,Nxf1,exd4,Nxd4,Nxd4,cxd4,Bf6,Be3,Na4,b3,Nc3,Bg6,Ra7,Kh2,Re7,Re1,Bh4,Bf2', 'Rxe1,Bxe1,Bxe1', 'https://lichess.org/training/TbkiP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tBNzi', 'Blitz', 'Sebastiantoranzo', 2091, 'Campeondepaz', 2250, 'e4,d6,d4,Nf6,Nc3,g6,Be3,c6,f3,b5,Qd2,Nbd7,Bd3,Nb6,h4,h5,Nh3,Qc7,Ng5,Bg7,O-O-O,e5,dxe5,dxe5,Bc5,Nbd7,Be3,O-O,Qe2,Nb6,g4,hxg4,h5,gxh5,Rdg1,b4,Nd1,c5,Bc4,Nxc4,Qxc4,a5,Nf2,Ba6,Qb3,Bb5,a4,c4,Qa2,b3,Qb1,Bxa4,fxg4,bxc2,Qa2,Bb3,Qa3,Rfd8,gxh5,Kh8,h6,Bf8,Bb6,Qxb6,Nxf7+,Kh7,Ng5+,Kg6,Ne6+,Kf7,Nxf8,Rxf8', 'Rg7+,Ke6,Qe7#', 'https://lichess.org/training/tBNzi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TBOfx', 'Rapid', 'amini688', 1731, 'Zythum', 1920, 'd4,Nf6,e3,e6,c4,d5,Nd2,Nbd7,cxd5,exd5,Ngf3,Bd6,Bb5,O-O,Bd3,Re8,O-O,Ne4,a3,Ndf6,Qc2,Bf5,Nh4,Bxh2+,Kxh2,Ng4+,Kg1,Qxh4,Nf3,Qh5,b4,Ng5,Bxf5', 'Nxf3+,gxf3,Qh2#', 'https://lichess.org/training/TBOfx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tBoZ4', 'Blitz', 'checkmamy', 2347, 'WGM Plested', 2484, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,g3,e5,Nb3,Be7,Bg2,O-O,O-O,b5,a4,b4,Nd5,Nxd5,exd5,Nd7,a5,Rb8,Bd2,Qc7,Ra4,Nc5,Rxb4,Nxb3,Rxb3,Rxb3,cxb3,Bb7,Bc3,Qc5,b4,Qc4,Qd2,h6,Rc1,Rc8,Bf1,Qc7,b5,axb5,Bxb5', 'Bg5,Qd1,Bxc1', 'https://lichess.org/training/tBoZ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tBPd9', 'Rapid', 'WowoKampret', 1908, 'anschewski', 1868, 'd4,f5,Nf3,g6,h3,Nf6,c4,Bg7,Nc3,d6,e3,O-O,Be2,Nc6,O-O,e5,Qb3,h6,dxe5,dxe5,c5+,Kh7,Rd1,Qe7,Nd5,Nxd5,Rxd5,Be6,Bc4,Na5,Qb5,Nxc4,Rd1,c6,Qb4,e4,Nd4,Ne5,Nxe6,Qxe6,Qxb7,Nd3,Rb1,Rab8,Qc7,Rfc8,Qxa7,Ra8,Qb7,Rxa2,b4,Rxf2,Rxd3,Rxg2+,Kxg2,exd3,Bb2,Qe4+,Kf2,Rg8,Re1,d2,Rd1,Qc2,Ke2,Qxb2,Rxd2,Qe5,Qxc6,f4,Rd3,Qh5+,Qf3,Qxf3+,Kxf3,fxe3,Rxe3,Rb8,Rb3,Rb5,Ke4,Kg8,Kd5,Kf7,Kc6,Rb8,b5,Bd4,b6,Rc8+,Kd5,Bxc5', 'b7,Rb8,Kxc5', 'https://lichess.org/training/tBPd9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TbPJW', 'Rapid', 'd572rr', 1918, 'redcooli', 2014, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Qf3,Bd6,Bg5,Be5,c3,O-O,Bc4,d6,O-O,Be6,Bb3,Qe8,Bxf6,Bxf6,Nd2,d5,exd5,cxd5,Bxd5', 'Bxd5,Qxd5,Rd8', 'https://lichess.org/training/TbPJW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tbrdl', 'Rapid', 'evanpassant', 1764, 'mediocreplay', 1882, 'Nf3,d5,d4,Nf6,Bg5,Ne4,Bh4,c6,Nbd2,f5,Nxe4,fxe4,Ne5,Nd7,Ng4,Qc7,f3,exf3,exf3,h5,Ne3,e5,Bg3,h4,Bf2,exd4,Nf5,Qe5+,Qe2,Qxe2+,Bxe2,c5,O-O-O,g5,Rhe1,Kf7,Bd3,Nf6,Re5,c4,Be2,Bxf5,Rxf5,Kg6', 'Rxf6+,Kxf6,Bxd4+,Ke6,Bxh8', 'https://lichess.org/training/Tbrdl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TbRVe', 'Rapid', 'nohci96', 1757, 'Vix_Golfer', 1754, 'd4,Nf6,c4,g6,Nc3,Bg7,g3,b6,Bg2,c6,e4,Ba6,b3,O-O,e5,Ne8,Nf3,Bb7,Be3,d5,cxd5,cxd5,Qd2,Nc7,Bh6,f6,h4,a6,h5,g5,Bxg7,Kxg7,h6+,Kh8,O-O-O,e6,exf6,Qxf6,Ne5,Qxf2,Qxf2,Rxf2,Rdf1,Rxf1+,Rxf1,Nc6,Nf7+,Kg8,Nxg5,Nxd4', 'Rf7', 'https://lichess.org/training/TbRVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tBSTV', 'Classical', 'MacGyver7', 1644, 'Pierot31', 1746, 'c4,c6,Nc3,e6,g3,d5,cxd5,cxd5,d4,Nf6,Bg2,Be7,Nf3,O-O,Bd2,a6,h4,Nc6,h5,e5,dxe5,Ng4,Bf4,Bc5,e3,Be6,Bg5,Qa5,h6,g6,O-O,f6,exf6,Nxf6,Qc2,Bf5,Qb3,Bb4,Nh4,Be6,Qc2,d4,Nxg6,Qxg5,Nxf8,Rxf8,exd4,Nxd4,Qd3,Bc5,Ne4,Nxe4,Qxe4,Qxh6,Rad1,Qf6,b4,Ba7,Qxb7,Nb5,Qxa6', 'Bxf2+,Rxf2,Qxf2+', 'https://lichess.org/training/tBSTV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TbT9C', 'Rapid', 'dankan', 1650, 'mn584', 1625, 'e3,e5,b3,Nc6,Bb2,d6,g3,Nf6,h3,Be7,Bg2,Be6,Ne2,Qd7,Nbc3,d5,Ng1,Bb4,a3,Bxc3,Bxc3,d4,Bb2,Bd5,f3,O-O-O,e4,Be6,Bf1,Ne7,Qe2,a6,d3,Nc6,f4,Rhe8,f5,Bxf5,exf5,Qxf5,Bg2,e4,Bxe4', 'Nxe4,dxe4,Rxe4,O-O-O,Rxe2', 'https://lichess.org/training/TbT9C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbw4y', 'Rapid', 'XXSOBERXX', 1937, 'sigalj', 2185, 'e4,c5,g3,Nc6,Bg2,g6,Ne2,Bg7,O-O,e6,d3,Nge7,c3,d5,exd5,Nxd5,Na3,b6,Qa4,Bb7,Nc2,O-O,d4,cxd4,Ncxd4,Nce7,Bg5,h6,Bxe7,Qxe7,Rad1,Rfc8,Rfe1,a6,Qb3,Qc7,Rc1,b5,a4,Qc4,Qxc4,bxc4,Nc2,Rab8,Na3,Rc5,Bf1,Bc6,Nd4,Bxa4,Nxc4,Bb5,Nxb5,axb5,Na3,b4,cxb4', 'Rxc1,Rxc1,Bxb2,Rb1,Bxa3', 'https://lichess.org/training/tbw4y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tbWCn', 'Blitz', 'FastBananna', 2486, 'NM PushingPawnsNYC', 2341, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bd3,Nf6,O-O,h5,h3,Bc5,Nb3,Be7,f4,h4,e5,Nh5,Be3,Ng3,Rf3,b5,a4,b4,Ne4,Bb7,Nxg3,hxg3,Rxg3,g6,Be2,d5,exd6,Bxd6,Bf3,Nc6,Nc5,Bxc5,Bxc5,Qxf4,Bd6,Qc4,b3,Qc3,Qe1', 'Qd4+,Kh2,Qxd6', 'https://lichess.org/training/tbWCn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tC0BW', 'Blitz', 'WeAreFriendsNow', 1571, 'jammyjam21', 1567, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bc5,O-O,O-O,d3,b6,Bxc6,dxc6,h3,Bb7,a3,Bd4,Nxd4,Qxd4,Be3,Qd7,f4,exf4,Rxf4,c5,Qf3,Rad8,Rf5,b5,Qg3,h6,Rxf6,b4,Bxh6,Qd4+,Kh1,Qxf6,Nd5,Qxh6,Ne7+,Kh8,Qxc7,Ba6,axb4,cxb4,Qxa7,Ra8,Qc7,Qf6,Nf5,Qxb2,Rf1,b3,c4,Qe2,Rf3,b2,Kh2,b1=Q,Rf4,Qb8', 'Rh4+,Qh5,Rxh5+,Kg8,Ne7#', 'https://lichess.org/training/tC0BW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tc1KD', 'Blitz', 'IM LosXodos', 2481, 'Fred025', 2368, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d6,c4,c6,Nc3,Qa5,Re1,Qh5,Bg5,Bg4,Bxf6,Bxf6,Qd3,Nd7,Nd2,e5,f3,Bh3,Nce4,Be7,g4,Qh6,Bh1,f5,Nf2,fxg4,fxg4,exd4,Nxh3,Ne5,g5,Bxg5,Qg3,Bxd2,Rf1,Be3+,Kg2,Nxc4,Rxf8+,Rxf8,Rf1,Rxf1,Kxf1,Qf8+,Bf3,Nxb2,Qg4,Qf7,Nf2,Bxf2,Kxf2,Nc4,Qxd4,d5,Qxa7,Ne5', 'Qb8+,Kg7,Qxe5+', 'https://lichess.org/training/tc1KD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tc1Kk', 'Rapid', 'Ionov-Andrey-55-1', 1641, 'KongDaniel', 1576, 'd4,d5,c4,c6,Nf3,Nf6,Bf4,Bf5,e3,e6,Nc3,Bb4,Be2,O-O,O-O,h6,h3,Nbd7,cxd5,cxd5,Ne5,Re8,a3,Bxc3,bxc3,Rc8,Nxd7,Qxd7,Rc1,Ne4,c4,Qe7,cxd5,exd5,Rxc8,Rxc8,Bd3,Qxa3,Bxe4,Bxe4,Qa1,Qxa1,Rxa1,a6,Kh2,Rc2,Kg3,g5,Be5,h5,f3,h4+,Kh2,Bxf3,Rg1,a5,Bf6,a4,Bxg5,a3,Bxh4,a2,Kh1,Bxg2+,Kh2,Kf8,Ra1,Be4+,Kg3,Rb2,Kf4,Rb1,Rxa2,Rh1,Bf6', 'Rf1+,Kg5,Rf5+,Kg4,Rxf6', 'https://lichess.org/training/tc1Kk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tc2pT', 'Blitz', 'Capelle1800', 1971, 'lattuada_basklarinet', 2014, 'e4,c5,d4,e6,c3,Nc6,d5,exd5,exd5,Ne5,Bf4,d6,Nf3,Bg4,Be2,Nf6,Nbd2,Nxd5,Nxe5,dxe5,Bxg4,Nxf4,O-O,Bd6,Qa4+,Kf8,Ne4,b6,Rfd1,Qh4,Bf3,Be7,Rd7,g6,g3,Nh3+,Kg2,Qh6,Rad1,Ng5,Rxe7', 'Qh3+,Kh1,Nxf3,Rxf7+,Kxf7,Qd7+,Qxd7', 'https://lichess.org/training/Tc2pT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tc6SZ', 'Rapid', 'Riotking', 1616, 'Safff1', 1862, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Be3,Be7,Be2,O-O,O-O,c5,Qd2,Nxe4,Qc1,d5,c3,Bf6,Qc2,Re8,Re1,d4,cxd4,cxd4,Bf4,Bf5,Bd3,Qd5,Nd2,Rac8,Bxe4,Bxe4,Nxe4', 'Rxc2,Nxf6+,gxf6', 'https://lichess.org/training/Tc6SZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tc7iz', 'Blitz', 'andras31', 1821, 'WhiteLines', 1920, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Be3,Be7,Be2,Nf6,Bf3,Ne5,O-O,Nxf3+,Qxf3,d6,Rad1,e5,Nf5,g6,Nxe7,Qxe7,Nd5,Nxd5,exd5,h5,h3,b5,Qg3,Bb7,Bg5,Qd7,c3,O-O,Bf6,Kh7,Rfe1,Qf5,Qh4,Kh6,g4,Qf3,Qg5+,Kh7,gxh5,Bxd5,hxg6+,fxg6,Qh4+,Kg8,Qh8+,Kf7,Qg7+,Ke6,Qe7+,Kf5', 'Rxe5+,dxe5,Qxe5#', 'https://lichess.org/training/tc7iz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tc7Wb', 'Classical', 'Sama191', 2057, 'EdmundoAzevedo', 2161, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,Bg4,Be2,e6,O-O,Nf6,Ne5,Bxe2,Qxe2,Qxd4,Bg5,Be7,Rad1,Qb4,Rfe1,O-O,Bxf6,Bxf6,Ng4,Bxc3,bxc3,Qxc3,Rd3,Qc4,Nf6+,Kh8,Nxh7,Rc8,Rh3,Qxe2', 'Nf6+,Qh5,Rxh5#', 'https://lichess.org/training/Tc7Wb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tc8cx', 'Blitz', 'lagy2020', 2052, 'bestmove12', 2072, 'e4,c5,d3,Nc6,Nd2,Nf6,Ngf3,d6,g3,Bg4,Bg2,h5,O-O,h4,h3,Bxf3,Nxf3,hxg3,fxg3,Nh5,Qe1,g6,g4,Nf6,c3,Bg7,Bf4,Qd7,b4,cxb4,cxb4,Nxb4,Qxb4,Nxg4,hxg4,Qxg4,Bh2,Bxa1,Rxa1,b6,Qb5+,Kf8,Rf1,Rc8,Qb3,e6,Bxd6+,Kg8,Ne5,Qg3,Nxf7,Qe3+,Rf2,Rc1+,Bf1,Rxf1+,Kxf1', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/Tc8cx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TC9SY', 'Rapid', 'ABOM08', 1974, 'SuperJaz77', 2120, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nf6,d3,h6,Be3,Bxe3,fxe3,d6,O-O,O-O,h3,Ne7,d4,exd4,exd4,c6,e5,dxe5,dxe5,Nfd5,Nxd5,Nxd5,Bxd5,cxd5,Qd4,Be6,Rad1,Rc8,c3,b6,Kh1,Rc4,Qd3,Qc7,Rfe1,Rd8,Nd4,Qe7,b3,Rcc8,Nf3,Qc5,Rc1,b5,Nd4,a6,Rf1,Rf8,a4,Bd7,axb5,axb5,Qe3,Rce8,Rce1,b4,cxb4,Qxb4,Nf5,Bxf5,Rxf5,Re6,Rd1,Qb7,Qf3,Rfe8,Rxd5,g6,Rf6,Rxf6,exf6,Qc7,Rd1,Kh7,Qd3,Re6,Qd4,Qc6,Rf1,Qb5,Qc4,Qe8,h4,Re4,Qc5,Rxh4+,Kg1,Qb8,b4,Qh2+,Kf2,Rf4+,Ke1,Qg3+,Rf2,Rxf6,b5,Re6+,Kf1,Qd3+,Kg1,Qd1+,Kh2,Qd7,b6,Kg7,Rb2,Qb7,Qc3+,Kh7,Qc7,Qxc7+,bxc7,Rc6,Rb7,Kg7,Kg3,Kf6,Kf4,Ke6', 'Rb6,Rxb6,c8=Q+', 'https://lichess.org/training/TC9SY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TC9Yl', 'Rapid', 'yakubw', 1641, 'SUNILD', 1645, 'e4,h6,d4,a6,Nc3,d6,f4,e6,Nf3,Be7,Be3,Nf6,e5,Nh7,Bd3,d5,O-O,O-O,Ng5,hxg5', 'Bxh7+,Kxh7,Qh5+,Kg8,fxg5', 'https://lichess.org/training/TC9Yl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tca4e', 'Rapid', 'jorgerodo', 1780, 'VanUrk', 1857, 'b4,e5,Bb2,e4,e3,d5,c4,Nf6,Nc3,d4,Nd5,d3,Nxf6+,gxf6,c5,Nc6,a3,Rg8,f3,f5,Nh3,f4,Nxf4', 'Qh4+,g3,Rxg3', 'https://lichess.org/training/Tca4e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tcb0c', 'Rapid', 'tranh', 1910, 'Regislian', 1946, 'Nf3,d5,d4,Nf6,Nbd2,e6,c3,Nbd7,Qc2,c5,e4,dxe4,Nxe4,cxd4,Nxd4,Be7,Bd3,O-O,Nxf6+,Nxf6,O-O,h6,Re1,a6,Qb3,Qc7,g3,b5,Bf4,Qb6,Nf3,Bb7,Ne5,Rad8,Bf1,Bc5,Be3,Bd5,c4,bxc4', 'Qxb6,Bxb6,Bxb6', 'https://lichess.org/training/tcb0c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tCbdF', 'Blitz', 'Jorge06', 1694, 'viktorkuliko68', 1695, 'e4,e6,Nf3,g5,Ne5,a6,Qh5,Qf6,d4,h6,Nc3,d6,Nf3,Qg6,Qh3,Nf6,Qg3,Nc6,Bd3,Qg7,e5,Nh5,Qg4,Nf4,Bxf4,gxf4,Qxf4,dxe5,dxe5,Bb4,O-O-O,Bxc3,bxc3,Bd7,g3,O-O-O,Nd4,Nxe5,Kd2,Nxd3,cxd3,Qg5,Qxg5,hxg5,Rb1,b5,c4,e5,Nf3,f6,Rhc1,Bc6,Ne1,Rxh2,Ke3,f5,cxb5,Bxb5,Rb3,f4+,gxf4,exf4+,Kf3,Rh3+,Kg4,Bd7+,Kxg5,Rg8+,Kxf4,Rg4+,Ke5,Rh5+,Kf6,Be8,Rbc3,Rg6+,Ke7,Rh7+,Kf8,Bb5,Nf3,Rd6,Kg8,Rhd7,Ne5,Rd8+,Kf7,Rh6,Rxc7+,Kb8,Nd7+,Bxd7,Ke7,Re8+,Kxd7,Rg8,Rb1+,Ka8,Rbb7', 'Rg7+,Ke8,Rh8#', 'https://lichess.org/training/tCbdF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tcd69', 'Rapid', 'icu2718', 1985, 'TheHutchTouch', 1848, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,b5,Bg5,Be7,Bxf6,Bxf6,Qd2,O-O,h4,Bb7,O-O-O,Be7,g4,Qc7,Nd5,Bxd5,Qxd5,Nd7,g5,Nc5,Nxc5,dxc5,h5,Rad8,Qb3,Bxg5+,Kb1,c4,Qg3,Bf4,Qg4,Kh8,Rdg1,f6,Rg2,Qd7,Qf3,Rf7,Rhg1,Bg5,a3,a5,Qc3,Bd2,Qg3,Bf4,Qc3,Qd2,Qf3,Bh6', 'Rd1,Rfd7,Rxd2', 'https://lichess.org/training/tcd69');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tCe2j', 'Rapid', 'patepelli', 1992, 'theme', 2199, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nf6,Nf3,e6,Bd3,Nc6,Be3,cxd4,Bxd4,Nxd4,cxd4,Be7,Nc3,Qd8,O-O,O-O,Rc1,a6,Bb1,b5,Ne5,Bb7,Ng4,Nxg4,Qxg4,Bf6,Rfd1,Rc8,a3,Rc4,Ne2,Bd5,Rxc4,Bxc4,Ng3,Bb3,Rd3,Bc4,Rd1,Bb3,Rd3,Bd5,Nh5,Kh8,Rh3,g6,Nf4,Kg7,Nh5+,Kh8,Nf4,Bg7,Nxg6+,fxg6,Qxg6,Kg8,Rxh7,Rf7', 'Rh8+,Kxh8,Qh7#', 'https://lichess.org/training/tCe2j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TcFqt', 'Classical', 'Giselher', 1820, 'dragoneagle', 1760, 'd4,Nf6,e3,g6,c3,Bg7,Bd3,d6,Nd2,Nbd7,f4,b6,Qf3,Rb8,Qe2,Bb7,Ngf3,c5,O-O,O-O,e4,Ne8,d5,e6,c4,Nc7,Rb1,Re8,b3,exd5,cxd5,Nxd5,Bb2,Nc3,Bxc3,Bxc3,Nc4,d5,Nd6,Re7,e5,Bb4,Nxb7,Rxb7,Rbd1,d4,Qf2,Re8,Bc4,b5,Bd3,f6,a4,bxa4,Bc4+,Kh8,bxa4,fxe5,Ng5,Qf6,Qh4,Nb6,fxe5,Qg7,Rf7,Rxf7,Bxf7,Rxe5,Ba2,Qe7', 'Nf7+,Kg8,Nxe5+', 'https://lichess.org/training/TcFqt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TCGHx', 'Blitz', 'FM Weetik', 2610, 'CM vovaches', 2612, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,dxe5,Nxe5,c6,Be2,Nd7,Nf3,N7f6,c4,Nb6,h3,Bf5,Nc3,e6,O-O,Be7,Nh4,O-O,Nxf5,exf5,Qd3,g6,Bh6,Re8,Rad1,Qd7,Bf3,Rad8,d5,cxd5,cxd5,Nc8,Rfe1,Nd6,Bg5,Nxd5,Qxd5,Bxg5,Rxe8+,Qxe8,Qc5,Bf6,Qxa7,Bxc3,bxc3,Qe7,Qb6,Rd7,a4,Ne4,Re1,Rc7,Qd4,Rd7,Qb4,Qxb4,cxb4,Rd4,Rb1,Nd2,Rb2,Nxf3+,gxf3,Kg7,Kg2,Kf6,a5,Rc4,b5,Ra4', 'a6,bxa6,b6,Rd4,b7', 'https://lichess.org/training/TCGHx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tchm4', 'Rapid', 'Benobeno', 1929, 'motaz19782', 1969, 'd4,c5,c3,cxd4,Qxd4,Nc6,Qa4,g6,Bf4,Bg7,e3,d6,Nf3,Bd7,Qc2,Nf6,Bd3,Rc8,Ng5,O-O,O-O,h6,Ne4,Kh7,Nxf6+,Bxf6,Qe2,e5,Bg3,d5,f3,Be6,Nd2,d4,cxd4,exd4,e4,Ne5,Bxe5,Bxe5,f4,Bg7,f5,Bd7,Qg4,Qb6', 'fxg6+,fxg6,Qxd7', 'https://lichess.org/training/tchm4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TCHUR', 'Rapid', 'ZingiberZenZen', 1923, 'BillClinton', 1827, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Nc6,e3,Be7,Nf3,h6,Bxf6,Bxf6,Bd3,O-O,O-O,Bg4,Qb3,Bxf3,gxf3,Ne7,Qxb7,Rb8,Qxa7,Rxb2,Rab1,Nc6,Qa4,Rd2,Qxc6,Rxd3,Nxd5,Bh4,Rb2,Qg5+,Kh1,Qf5,Nf4,g5,Nxd3,Qxd3,Kg2,Kh7,Qxc7,g4,fxg4,Qe4+,Kh3,Qf3+,Kxh4,Qg2,Rfb1,Rc8,Qxc8', 'Qxh2#', 'https://lichess.org/training/TCHUR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tcjkW', 'Classical', 'APPrentice2008', 2076, 'RahimBNBN', 2086, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,a6,Na3,Be6,Bg5,Be7,Bxf6,Bxf6,Nd5,Nd7,Nxf6+,Nxf6,Bc4,Bxc4,Nxc4,Nxe4,Qd5,O-O,Qxe4,d5,Qe2,dxc4,O-O,Qc7,Rad1,Rfe8,Rd5,f6,Rfd1,b5,Rd7,Qc5,Qg4,Qf8,Qe4,Rad8', 'Qd5+,Kh8,Rxd8,Rxd8,Qxd8', 'https://lichess.org/training/tcjkW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tcjX3', 'Rapid', 'ChessFalcon', 2094, 'Peruvian5000', 1816, 'd4,Nf6,c4,e6,Nc3,c5,d5,exd5,cxd5,d6,e4,Be7,f4,a6,Nf3,Bg4,Be2,Nbd7,e5,Bxf3,Bxf3,dxe5,d6,Bf8,Bxb7,Rb8,Bxa6,Qb6,Bc4,Bxd6,O-O,O-O,fxe5,Nxe5,Nd5,Nxd5,Qxd5,Nxc4,Qxc4,Be5,Rb1,Bd4+,Kh1,Rbe8,b3,Qg6,Bb2,Qg4,Bxd4,cxd4,Rbe1,h5', 'Rxe8,Rxe8,Qxf7+,Kh7,Qxe8', 'https://lichess.org/training/tcjX3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tCK2U', 'Bullet', 'Morsy777', 2077, 'marcusr-p', 1941, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,Bd2,O-O,Bd3,d6,O-O,Nc6,h3,Be6,f4,exf4,Bxf4,Bxc3,bxc3,Ne5,Nd4,Nfd7,Nf5,Bxf5,exf5,Rc8,c4,f6,Be4,Kh8,Kh2,Qc7,Rb1,b6,Bd5,Nc5,Qh5,Na4,Bd2,Nxc4,Rf4,Nxd2', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/tCK2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TCL4W', 'Blitz', 'Flafouto', 2143, 'argo', 2092, 'e4,c5,Nc3,Nc6,f4,e5,Nf3,d6,fxe5,Nxe5,Nxe5,dxe5,Bc4,Nf6,d3,Bg4,Qd2,Qd4,Ne2,Bxe2,Qxe2,a6,Be3,Qd7,O-O,b5,Bb3,Bd6,Bg5,Be7,Bxf6,Bxf6,Bd5,Rd8,Rf3,O-O,Raf1,Kh8,Rh3,Bg5,Rf5,f6,Rxg5,fxg5', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/TCL4W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tClQt', 'Rapid', 'Soccercookie', 1784, 'davidp1995', 1794, 'e4,e5,d4,exd4,c3,dxc3,Bc4,c6,Nf3,d6,O-O,Be7,Nxc3,Nf6,Qb3,O-O,Be3,Nbd7,Rad1,b5,Bd3,Qc7,Rc1,Ne5,Nxe5,dxe5,Nxb5,Qb7,Nc3,Qxb3,axb3,Bb4,Ne2,Bb7,Ng3,Rac8,Rc4,a5,Rfc1,Ba6,Rxc6', 'Rxc6,Rxc6,Bxd3', 'https://lichess.org/training/tClQt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TCMcO', 'Blitz', 'Bambus777', 1561, 'Andrey1966', 1575, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,e6,Bg5,Be7,Qf3,d6,O-O-O,Qc7,Bf4,O-O,e5,dxe5,g3,exf4,gxf4,a6,Bd3,b5,Nh3,Nd5,Nxd5,exd5,Rhg1,Nb4,Bxh7+,Kxh7,Qh5+,Kg8,Ng5,Qxf4+,Kb1,Bxg5,Rxg5,Qxf2,Rdg1,g6', 'Rxg6+,fxg6,Qxg6+,Kh8,Qh5#', 'https://lichess.org/training/TCMcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tcMii', 'Rapid', 'chessperson', 2022, 'josefortes12', 2063, 'Nf3,c5,c4,e6,g3,d5,cxd5,exd5,Bg2,Nf6,d3,Nc6,O-O,Bd6,b3,O-O,Bb2,Qe7,Nbd2,Re8,Re1,Qc7,Rc1,Ne5,Nxe5,Bxe5,Bxe5,Qxe5,Rxc5,Bg4,Nf3,Qh5,Qc1,h6,Kf1,Re7,h4,Rae8,Nd4,Bxe2+,Rxe2,Rxe2,Nxe2,Qxe2+,Kg1,Qxd3,Rc7,Qd4,Rxb7,Re2,Qf1,Rxa2', 'Rb8+,Kh7,Qb1+', 'https://lichess.org/training/tcMii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tcns8', 'Rapid', 'Zag0Rhr', 2084, 'cruzader3000', 2120, 'e4,e6,f4,d5,e5,c6,Nf3,Qb6,c3,Nh6,b4,a5,bxa5,Rxa5,a4,Ng4,d4,c5,h3,Nh6,Be3,Nf5,Bf2,Qb2,Ra3,cxd4,Rb3,Qa1,g4,Ne3,Bxe3,dxe3,Bd3,Bd7,Rxb7,Nc6,Bb5,Qa2,Rh2,Qa1,Qb3,Rxb5,Qxb5,Bb4,cxb4', 'Qxb1+,Ke2,Nd4+,Nxd4,Bxb5+', 'https://lichess.org/training/Tcns8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tCo6m', 'Rapid', 'krstic_zoran1973', 1878, 'cubesquest', 1833, 'e4,e5,Bc4,g6,Nc3,Nf6,Nf3,d6,a3,Bh6,O-O,O-O,d4,Bxc1,Rxc1,exd4,Nxd4,Re8,Re1,a6,Qf3,Rf8,Rcd1,Bg4,Qg3,Bxd1,Rxd1,b5,Bb3,Nh5,Qg4,Qd7,Qf3,c6,Nde2,a5,e5,d5,h3,a4,Ba2,Na6,Nd4,Ng7,b4,axb3,Bxb3,Nc5,a4,Nxb3,cxb3,bxa4,Nxa4,Rab8,Qg3,Ne6,Nxe6,Qxe6,Nc5,Qe7,Rc1,Rfe8,e6,fxe6,Qe3,e5,Rb1,d4,Qc1,Rb5,Ne4,c5', 'Qc4+,Kg7,Qxb5', 'https://lichess.org/training/tCo6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TCQVq', 'Blitz', 'FM mindtraper', 2569, 'miguelfc', 2096, 'e4,d5,exd5,Qxd5,Nc3,Qa5,b4,Qxb4,Rb1,Qd6,d4,c6,Nf3,Nf6,Ne5,e6,Bf4,Qd8,Bd3,Qa5,Bd2,Bb4,Rb3,Nd5,Qh5,g6,Nxg6,fxg6,Bxg6+,Kd7,Rxb4,Qxb4,Nxd5,Qb1+,Ke2,Qxh1,Be8+,Rxe8,Qf7+,Kd6,Qc7+,Kxd5', 'Qe5+,Kc4,Qc5#', 'https://lichess.org/training/TCQVq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tCR5u', 'Rapid', 'tutoopus', 1606, 'halishocammacyapalim', 1650, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,Bf5,Bg5,exf3,Nxf3,Ne4,Nxe4,Bxe4,Ne5,Nc6,Nxc6,Bxc6,Bc4,f6,Bf4,Bxg2,Rg1,Bd5', 'Qh5+,g6,Qxd5,Qxd5,Bxd5', 'https://lichess.org/training/tCR5u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tcSXK', 'Classical', 'Vladuxa2010', 1954, 'eRZGR06', 2005, 'd4,d5,c4,dxc4,e4,e6,Nc3,a6,Be2,b5,a4,b4,Na2,Bb7,Bd2,a5,Bxc4,Bxe4,Nf3,Nf6,Qe2,Bb7,Bg5,Be7,Bb5+,c6,Bd3,O-O,Qc2,h6,Be3,Nbd7,Qd2,Rc8,Bxh6,gxh6,Qxh6,Re8,Ng5,Bd6', 'Bh7+,Nxh7,Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/tcSXK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tCTGw', 'Blitz', 'Feruza2008', 2201, 'CM AAponte', 2281, 'd4,e6,Nf3,Nf6,Bf4,Ne4,Nbd2,d5,e3,Bd6,Bd3,f5,O-O,O-O,c4,c6,Ne5,Nd7,Nxc6', 'bxc6,Bxd6,Nxd6', 'https://lichess.org/training/tCTGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tctnf', 'Blitz', 'Sarmento20', 1795, 'JDanielSeguraT', 1809, 'd4,d5,e3,c5,dxc5,Qa5+,Bd2,Qxc5,Nc3,Nf6,a3,a6,b4,Qc7,Nf3,e6,Nd4,Nc6,Nxc6,bxc6,Bd3,Bd6,h3,Bd7,Na4,Ne4,Bxe4,dxe4,c4,O-O,c5,Be5,Rc1,f5,Nb6,Rad8,O-O,Rf6,Nxd7,Rxd7,Qe2,Bh2+,Kh1,Be5,Bc3,Rg6,Bxe5,Qxe5,Rcd1,Rxd1,Rxd1,h6,Qxa6,Qb2,Qc8+,Kh7,Qxc6,Qxf2,Rg1,Rg3,Qxe6,Rg6,Qd5,Qxe3,c6,Rg3,Qxf5+,g6,Qf7+,Kh8,c7', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/tctnf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TCTyf', 'Rapid', 'CEFERINO1974', 1949, 'DoomShark10', 2017, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,Bd6,Bg3,c5,c3,Nc6,Bd3,c4,Bc2,Qc7,Nbd2,O-O,Ne5,Nxe5,dxe5,Bxe5,f4,Bd6,Nf3,Qb6,Qd2,Bc5,Bf2,Ng4,Nd4,Nxf2,Qxf2,Qxb2', 'Bxh7+,Kxh7,Qxb2', 'https://lichess.org/training/TCTyf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tCuaP', 'Rapid', 'xnj', 1670, 'lordbenben', 1679, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Nd4,O-O,Nxb5,Nxb5,d6,d4,exd4,Qxd4,Bg4,e5,Nd7,Qxg4,dxe5,Rd1,a6,Nxe5,Bd6,Nxd6+,cxd6,Qxg7,Rf8,Bh6,dxe5,Qxe5+', 'Nxe5,Rxd8+,Rxd8', 'https://lichess.org/training/tCuaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TcuzB', 'Blitz', 'ghosttk', 1916, 'Pellwurm', 1948, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,d6,O-O,Be7,Nd2,O-O,b3,a5,Bb2,a4,a3,Re8,h3,Nd7,f4,Bf6,Bxf6,Qxf6,g3,Nc5,Kh2,Qh6,h4,axb3,Nxb3,Nxe4,Qf3,d5,Rae1,Qe6,f5,Qe5,a4,Rxa4,Rg1,Bxf5,Ref1,Nxg3,Rxg3,Rxh4+,Kg2,Bxd3', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/TcuzB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tcUzI', 'Rapid', 'Garchuu', 2096, 'wenko', 1962, 'Nf3,Nc6,e4,e5,d4,exd4,Nxd4,Ne5,c4,Bb4+,Nc3,c5,Nb5,Qb6,Nd6+,Kf8,Be2,Ne7,O-O,N7c6,Nxc8,Rxc8,Qd6+,Kg8,Nd5,Qd8,f4,Ng6,e5,Nd4,Bd3', 'Rc6,Nf6+,gxf6', 'https://lichess.org/training/tcUzI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TCvsZ', 'Rapid', 'JONATHANBOASSIBALE', 1915, 'Arinze1992', 1628, 'e4,e5,Nf3,d6,Bc4,Qf6,d3,Qg6,Ng5,Nh6,Qf3,Be7,Bxf7+', 'Nxf7,Qxf7+,Qxf7,Nxf7,Kxf7', 'https://lichess.org/training/TCvsZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TCwf7', 'Blitz', 'GORILLA_PUNCH', 2026, 'LM Rochade_Augsburg', 2342, 'e4,Nc6,Nf3,Nf6,Nc3,d5,exd5,Nxd5,d4,Bg4,Be2,e6,O-O,Be7,h3,Bh5,a3,O-O,Nxd5,exd5,c3,Re8,Ne5,Bxe2,Qxe2,Nxe5,dxe5,Bd6,f4,f6,e6,f5,Re1,g6,c4,c6,b4,Qf6,Bb2,Qh4,c5,Bxf4,e7,d4,Qe6+,Kg7,Bxd4+,Kh6,Bf2,Bh2+,Kf1,Bg3,Bxg3,Qxg3,Re3,Qf4+,Kg1,Qd4,Re1,f4,Qg4,Qxe3+,Rxe3,fxe3,Qf4+,Kg7,Qxe3,Kf7,Qf4+,Kxe7,Qc7+,Kf8,Qxb7,a5,Qxc6,axb4,axb4,Ra1+,Kh2,Ree1,Qd6+,Kg7,c6,Rh1+,Kg3,Ra3+,Kh4,Rc1,c7,Rc4+,Kg5,Rac3,Qe5+,Kg8,Kh6', 'Rh4+,Kg5,Rh5+', 'https://lichess.org/training/TCwf7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tCwqg', 'Rapid', 'Aykut88876', 1754, 'artur180482', 1770, 'd4,d5,Nf3,Bg4,Ne5,Bh5,g4,Bg6,Nxg6,hxg6,Nc3,Nf6,Bf4,e6,f3,Nc6,a3,Bd6,Qd2,Qe7,O-O-O,O-O-O,Bxd6,Qxd6,e4,dxe4,fxe4,Nxg4,d5,Na5,Be2,Nf2,Nb5,Qc5,Qxa5,Nxh1', 'Nxa7+,Qxa7,Qxa7', 'https://lichess.org/training/tCwqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tCYEU', 'Blitz', 'quantenmecha', 1812, 'hdkiller', 1775, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,Bb4,Nxe5,Nxe5,dxe5,Nxe4,Qg4,Bxc3+,bxc3,Nxc3,Qxg7,Rf8,Bh6,Qe7,Qg3,Ne4,Qb3,Rg8,f3,Nc5,Qc4,Qxe5+,Be2,Ne6,O-O,d6,Rfe1,Qc5+,Qxc5,Nxc5', 'Bb5+,Kd8,Bg5+,Rxg5,Re8#', 'https://lichess.org/training/tCYEU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tCYxI', 'Rapid', 'rudi_widodo', 2106, 'babljak01', 2111, 'e4,c6,d4,d5,exd5,cxd5,Nf3,e6,Bd3,Nf6,Bf4,Nc6,c3,h6,Nbd2,Bd6,Ne5,Bc7,Bb5,Bd7,Bd3,O-O,Qf3,Nxe5,dxe5,Ne8,Qg3,Kh8,h4,f5,O-O-O,Bb6,Nf3,Nc7,Bxh6,gxh6,Qg6,Qe7,Qxh6+,Qh7,Qf4,Bxf2', 'Ng5,Qg7,Qxf2', 'https://lichess.org/training/tCYxI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Td2Hx', 'Rapid', 'lotda', 2250, 'wormer', 2045, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nf6,g3,g6,Bg2,Bg7,Bg5,Be6,Nge2,h6,Bxf6,Bxf6,Nf4,Nc6,Ncxd5,Bxd5,Nxd5,Bxd4,c3,Bg7,Qb3,Rb8,Rd1,Qc8,O-O,O-O,Rd2,e6,Nb4,Nxb4,Qxb4,Rd8,Rfd1,Rxd2,Rxd2,Bf8,Qa4,a6,Rd7,b5,Qd4,b4,c4,Bg7,Qa7,Bxb2,Rxf7,Qxc4,Rh7,Rf8,Rxh6', 'Qc1+,Bf1,Qxh6', 'https://lichess.org/training/Td2Hx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TD2O5', 'Rapid', 'Turanastra', 1866, 'maxgarbage', 1768, 'e4,c5,Nc3,e6,f4,a6,Nf3,b5,a3,Bb7,Be2,Qc7,d3,Nf6,O-O,Be7,Bd2,d5,e5,Nfd7,Be1,f5,Bh4,Nc6,Ng5,Nd4,Bh5+,g6,Be2,Nxe2+,Nxe2,c4,Nxe6', 'Qb6+,Bf2,Qxe6', 'https://lichess.org/training/TD2O5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tD2U5', 'Blitz', 'YessssssDoooooThat', 2037, 'martymarsuperstar', 2072, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Ng8,Nf3,d5,d4,Bg4,Bxf4,Nc6,h3,Bxf3,Qxf3,Nxd4,Qf2,Bc5,Be3,Nxc2+,Qxc2,Bxe3,g3,d4,Ne4,Ne7,Bd3,O-O,Qe2,c5,Qh5,Ng6,Rf1,Qa5+,Ke2,Qb4,b3,Qa3,Rfb1,Rae8,h4,Rxe5,Qf3,f5,Rf1,fxe4', 'Bc4+,Re6,Bxe6+,Kh8,Qxf8+,Nxf8,Rxf8#', 'https://lichess.org/training/tD2U5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('td4Nn', 'Rapid', 'Super_Fireboy', 2036, 'fadei1942', 1908, 'b3,e6,Bb2,d6,e4,e5,d4,f6,dxe5,dxe5,Nd2,Nc6,Ngf3,Bg4,Be2,Bc5,O-O,Nge7,Nh4,Bxe2,Qxe2,O-O,Rad1,Qe8', 'Qc4+,Qf7,Qxc5', 'https://lichess.org/training/td4Nn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('td7KX', 'Classical', 'AnoXioN', 1658, 'massimm', 1639, 'e4,e6,Nf3,c6,d4,a5,Bc4,d5,exd5,exd5,Bd3,Qe7+,Be3,Qb4+,Nc3,Qxb2,Bd2,Qa3,O-O,Be7,Re1,Be6,Ne5,Nd7,Qf3,Nxe5,Rxe5,Nf6,Bg5,Qxc3,Rae1,Ne4,R5xe4,dxe4,Rxe4,Bxg5,Rxe6+,fxe6,Bg6+,hxg6,Qxc3,O-O,Qb3,b5,Qxe6+,Kh8,Qxc6,Rac8,Qxg6,Bh6,g3,Rf6,Qh5,Rcf8,f4,b4,Qxa5,Rb8,Qc7,Rfb6,d5,b3,axb3,R6b7,Qe5,Rb4,d6,Rd8,Qe7,Rbb8,d7,g6,c4,Bf8,Qh4+,Kg7,Qg4,Rxb3,Qe6,Rd3,f5,gxf5,Qxf5,R8xd7,Qg5+,Kf7,Qf5+,Ke8,Qe6+,Be7,Qg8+,Bf8,Qe6+,Re7', 'Qg6+,Kd8,Qxd3+', 'https://lichess.org/training/td7KX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TD7pw', 'Rapid', 'Bakanicho', 1733, 'andrehayen', 2005, 'e4,c6,Nf3,d5,e5,Bg4,d4,c5,c3,Nc6,Nbd2,e6,h3,Bxf3,Nxf3,Nge7,Be3,cxd4,cxd4,Nf5,Bd3,Bb4+,Ke2,Nxe3,fxe3,O-O,g4,f6,exf6,Rxf6,a3,Bd6,b4,Qf8,Rf1,a6,g5,Rf7,Qe1,g6,h4,Ne7,Qf2,Nf5,Rg1,Rc8,Rac1,Rxc1,Rxc1,Bg3,Qg2,Bxh4,Ne5,Nxd4+,Kd1,Rf2,Qh3,Bxg5,exd4', 'Rd2+,Ke1,Qf2#', 'https://lichess.org/training/TD7pw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Td8Kd', 'Classical', 'E4clabase', 1706, 'iltagliano', 1786, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,Nc6,Bg5,h6,Bxf6,exf6,Bb5,Be6,O-O,a6,Ba4,Bd6,Re1,O-O,Bxc6,bxc6,a3,c5,dxc5,Bxc5,b4,d4,bxc5,dxc3,Qxd8,Rfxd8,Re3,Rac8,Rxc3,Rd5,c6,Rd6,c7,Rd7,Kf1,Rdxc7,Rxc7,Rxc7,Nd4,Rc4,Nxe6,fxe6,Ra2,Kf7,Ke2,e5,Rb2,Kg6,h3,Rc3,a4,Rc4,Ra2,Kf5,g3,g5,Kd1,Ke4,Ra3,Rd4+,Ke2,a5,Re3+,Kd5,Rd3,Kc4,Rf3,Rd6,Rb3,Rd4,Rf3,Kb4', 'c3+,Kxa4,cxd4', 'https://lichess.org/training/Td8Kd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Td9n2', 'Rapid', 'Slobodan7', 1970, 'Spirit-of-VOS', 2328, 'c4,g6,d4,Bg7,e4,d6,Nc3,Nf6,g3,O-O,Bg2,Nc6,Nge2,e5,d5,Nd4,Be3,Ng4,Bxd4,exd4,Nxd4,c5,dxc6,Qb6,Nce2,bxc6,h3,Ne5,b3,c5,Nb5,Nd3+,Qxd3,Bxa1,O-O,Bg7,e5,a6,Nxd6,Bxe5,Nxf7,Rxf7,Bxa8,Bxh3,Rd1,Kg7,f4,Bf6,Kh2,Bg4,Bf3,Rd7,Bd5,h5,Rd2,h4,Nc3,Bf5,Ne4,hxg3+,Kxg3,Qa5,Qe3', 'Bxe4,Qxe4,Qxd2', 'https://lichess.org/training/Td9n2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('td9Oh', 'Rapid', 'Fl04', 1877, 'Chess00board', 1845, 'd4,d5,c4,c6,Nc3,Bf5,Qb3,Nf6,Qxb7,Nbd7,Qxc6,Rc8,Qa4,Rxc4,Qxa7,e5,e4,dxe4,Bxc4,exd4,Qxd4,Bc5,Qd1,O-O,Bg5,Qb6,Qd2,e3,Bxe3,Bxe3,fxe3,Re8,O-O-O,Rxe3,Nf3,h6,Rhe1,Rxe1,Rxe1,Qc5,Bb3,Nb6,Nd4,Bg6,Bc2,Nc4,Qf4,Bxc2,Kxc2,Qb4,Nb3', 'Na3+,bxa3,Qxf4', 'https://lichess.org/training/td9Oh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Td9SW', 'Rapid', 'NightFish72', 2060, 'mionescu', 2230, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Bg4,Bc4,e6,h3,Bh5,Ng3,Bxf3,Qxf3,Nf6,O-O,Nbd7,d4,Nb6,Bb3,Be7,c3,O-O,Be3,Nbd5,Rad1,Nxe3,fxe3,Qc7,e4,c5,e5,Nd7,Qg4,Qb6,Nh5,g6,Nf6+,Nxf6,exf6,Bd6,Qg5,Rfd8,Bxe6,Bf8,Bb3,cxd4,cxd4,Rxd4,Kh1,Rad8,Rde1,Qc5,Bxf7+,Kxf7', 'Re7+,Bxe7,fxe7+', 'https://lichess.org/training/Td9SW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TDAK6', 'Rapid', 'mdsaif', 1633, 'elerone53', 1673, 'e4,e5,Bc4,d6,Nf3,Nf6,Nc3,h6,d4,exd4,Nxd4,Bd7,O-O,Be7,Re1,O-O,e5,dxe5,Rxe5,Bd6,Re1,a6,h3,Nc6,Nf3,Bb4,Qd3,a5,a3,Bd6,Be3,Ne5,Nxe5,Bxe5,f4,Bd6,Ne4,Be7,c3,Bf5', 'Nxf6+,Bxf6,Qxf5', 'https://lichess.org/training/TDAK6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tdbr6', 'Classical', 'Alevaspan', 1652, 'zeigeist', 1628, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,d3,c5,Nc3,Nc6,Ng5,Nd4,Be3,Be7,Bxd4,Bxg5,Be3,Qf6', 'Qh5+,g6,Qxg5,Qxg5,Bxg5', 'https://lichess.org/training/Tdbr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tdC3S', 'Rapid', 'feinsterschnitz', 1767, 'anax_makis', 2076, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,O-O,Bc5,Bxc6,bxc6,Be3,O-O,Nd2,Nxd2,Qxd2,Bb6,a3,c5,Nb3,d4,Bg5,Qe8,Qf4,Be6,a4,a5,Rae1,Qd7,Qg3,Kh8,Re4,f6,exf6,gxf6,Bc1,Rg8,Qf4,Raf8,g3,Rg4,Qf3,f5', 'Rxg4,Bd5,Qf4', 'https://lichess.org/training/tdC3S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tdCSW', 'Classical', 'cnicu', 1752, 'johan007', 1800, 'd4,d5,Bf4,e6,e3,c6,Nf3,h6,a3,Qa5+,Nc3,Nf6,Ne5,Ne4,Qh5,g6,Nxg6,fxg6,Qxg6+,Kd7,Qf7+,Be7,O-O-O,Nxc3,Rd3,Ne4,Be5,Rf8,Qg7,Nxf2,Rd2,Nxh1,Bd3,Rf1+,Bxf1,Nf2,Re2,Ne4,g3,Nd6,Bf6,Qd8,Rf2,Ne4', 'Bxe7,Qxe7,Rf7,Qxf7,Qxf7+', 'https://lichess.org/training/tdCSW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tdDcG', 'Classical', 'Dariocouli971', 1652, 'rpaz', 1668, 'd4,e5,e4,exd4,Qxd4,Nc6,Qd1,g6,a3,Bg7,Bd3,Nge7,Nf3,d5,c3,Bg4,Be3,Qd6,Qc2,Bxf3,gxf3,d4,cxd4,Bxd4,Bxd4,Nxd4,Qd1,f5,Nc3,O-O-O,Nb5,Nxb5,Bxb5,Qb6,Qe2,fxe4,fxe4,h5,Bd3,Rhe8,O-O-O,a6,Kb1,Nc6,f3,Rd5,Bc2,Ra5,Ka1,Nb4,Rd2,Qe6,Bb1,Qb3,Rc1', 'Rxa3+,bxa3,Qxa3+', 'https://lichess.org/training/tdDcG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TDebr', 'Blitz', 'swift123', 1867, 'Sputnik_Monroe', 1874, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Bg5,Be7,Nf3,Ne4,Bf4,O-O,O-O,f5,Ne5,Nd7,Nd2,Nxe5,Bxe5,Bd6,f4,Qh4,Nf3,Qh5,c3,Bd7,Qb3,Bc6,Bb5,Kh8,Bxc6,bxc6,Qa4,Bxe5,Nxe5,Qe2,Qxc6,Qe3+,Kh1,Nf2+,Rxf2,Qxf2,Qxd5,Qxf4,Nf7+,Rxf7', 'Qxa8+,Rf8,Qxf8#', 'https://lichess.org/training/TDebr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDEM8', 'Rapid', 'Cyclops_2006', 1739, 'polkovnik05', 1751, 'd4,d5,Nf3,Nc6,c4,Nf6,Bf4,h6,e3,e6,Nc3,Bb4,h3,O-O,a3,Bxc3+,bxc3,Ne4,Qc2,Ne7,Bh2,c6,cxd5,cxd5,c4,Nf5,cxd5,exd5,Bd3,Be6,Bxe4,Qa5+,Nd2,Nh4,Bf3,Bf5,Qc5,Nxf3+,gxf3,Qd8,e4,Bxh3,Bd6,Bg2,Rh2,dxe4,Bxf8,exf3,Be7,Qd7,Qd6,Qb5,Qc5', 'Qe2#', 'https://lichess.org/training/tDEM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDEys', 'Classical', 'LRoberto', 1805, 'gorginkhan', 1825, 'e4,c6,Nf3,d5,e5,Bg4,h3,Bh5,g4,Bg6,Nh4,Be4,f3,e6,Ng2,Bg6,Nf4,Qh4+,Ke2,Nd7,d4,c5,c3,c4,Qe1,Bd3+,Nxd3,cxd3+,Kd1,Qe7,Bxd3,f6,f4,Nb6,Bb5+,Kf7,Rf1,h5,g5,f5,b3,Qc7,h4,g6,a4,a6,Bd3,Rc8,a5,Na8,Rf2,Qc6,Rfa2,Nc7,Bb2,Nb5,Ke2,Be7,Ke3,Bd8,Ra4,Bc7,c4,dxc4,Rxc4,Qg2,Rc2,Bxa5,Rxa5', 'Rxc2,Bxc2,Qxc2', 'https://lichess.org/training/tDEys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tdf9f', 'Blitz', 'PuzurAurel', 1658, 'lil_sukenc', 1665, 'd4,d5,c4,dxc4,Nc3,a6,e4,b5,a4,c6,d5,cxd5,Qxd5,Qxd5,Nxd5,Kd7,Nb6+,Kc7,Nxa8+,Kc6,axb5+,Kxb5,Nc7+,Kc6,Nxa6,Nxa6,Rxa6+,Kd7,Bxc4,Bxa6,Bxa6,e6,Nf3,Bb4+,Ke2,Nf6,Rd1+,Ke7,Kf1,Ra8,Bc4,Nxe4,b3,Ra1,Ke2', 'Nc3+,Ke1,Nxd1+,Kxd1,Ba3', 'https://lichess.org/training/tdf9f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TDfQR', 'Rapid', 'Greench', 1663, 'bach_1972', 1627, 'Nf3,c5,e4,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Bd3,Be7,Be3,O-O,f4,b5,e5,dxe5,fxe5,Ng4,Qxg4,Bb7,Bh6,g6,Bxf8,Bxf8,O-O-O,Bg7,Nf3,Nc6,Rhe1,Qc7,h4,Nxe5,Nxe5,Bxe5,Ne4,Qa5,a3,Rc8,h5,Qc7,hxg6,fxg6,Qg5', 'Bf4+,Kb1,Bxg5', 'https://lichess.org/training/TDfQR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TdfsJ', 'Classical', 'alyasarii0000', 1948, 'xaker_chess_3000', 1719, 'd4,d5,e3,e6,Nf3,Nf6,b3,c5,Bb2,cxd4,exd4,Nc6,Bd3,Be7,O-O,h6,Nbd2,O-O,Ne5,Bd6,Re1,Qc7,Ndf3,Bd7,a3,Rac8,Rc1,a6,c4,b6,cxd5,exd5,Nxc6,Bxc6,Bxa6,Rce8,Rxe8,Rxe8,Bb5,Rc8,Ne5,Bxe5,dxe5,Ne4,Rxc6,Qd7,Rxc8+,Qxc8,Qxd5,Qc2,Qd4,Nd2,g3', 'Nf3+,Kg2,Nxd4', 'https://lichess.org/training/TdfsJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TdhOF', 'Rapid', 'Bzzzt', 1753, 'Ylpotjk', 1726, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,Ne7,Be2,Nbc6,O-O,Be6,Re1,Qd7,Bg5,f6,Be3,O-O-O,Nb5,h5,Nxd6+,Qxd6,b3,g5,c4,h4,c5,Qd7,Kf1,Nf5,Qd2,g4,Ng1,g3,h3,gxf2,Bxf2,Ncxd4,Bxd4', 'Ng3+,Kf2,Ne4+,Ke3,Nxd2', 'https://lichess.org/training/TdhOF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tdIK4', 'Blitz', 'TAGHBALOUT', 2350, 'mohammedarrami', 2410, 'd4,c5,d5,Nf6,Nc3,e6,e4,d6,Nf3,exd5,exd5,Be7,Bb5+,Nbd7,O-O,O-O,a4,a6,Bd3,Nb6,h3,Nbxd5,Nxd5,Nxd5,Bxh7+,Kxh7,Qxd5,Be6,Qxb7,d5,Bf4,Bd6,Ng5+,Kg8,Nxe6,fxe6,Bxd6,Qxd6,Qb3,Rfb8,Qc3,d4,Qc4,Rb4,Qd3,Rxb2,Rae1,Qd5,Qg3,Rxc2,Re5,Qd6,Rfe1,Rf8,f3,d3,Qg6,Rf6,Qe8+,Qf8,Qh5,d2,Rd1,Rc1,f4,Rxf4,Rxe6,Rf1+,Kh2,Rfxd1,Re8,Rh1+,Kg3,d1=Q,Rxf8+,Kxf8,Qf5+,Kg8,Qc8+,Kh7,Qf5+,g6,Qf7+,Kh6,Qf8+,Kg5', 'Qf4+,Kh5,Qh4#', 'https://lichess.org/training/tdIK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDjfp', 'Blitz', 'ChessAlligator', 1940, 'urmatesoon', 1826, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,Be2,O-O,Qd2,d6,O-O-O,Ng4,Bxg4,Bxg4,f3,Be6,h4,Qa5,Kb1,Rac8,h5,Nxd4,Bxd4,Rxc3,Bxc3', 'Qxa2+,Kc1,Qa1#', 'https://lichess.org/training/tDjfp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TDJJL', 'Bullet', 'sirkkeli', 2093, 'LoiuseMichel', 2125, 'e3,g6,d4,Bg7,f4,Nf6,Nf3,O-O,c3,d6,Bd3,c5,O-O,Nc6,f5,e5,fxg6,hxg6,Ng5,exd4,exd4,cxd4,Qe1,Ne5,Qh4,Nxd3,Rxf6,Re8', 'Qh7+,Kf8,Rxf7#', 'https://lichess.org/training/TDJJL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TDK3t', 'Rapid', 'heeltydspeeltyd', 1820, 'Blackburne777', 1701, 'e4,e5,d4,Nc6,Nf3,d6,dxe5,Bg4,exd6,Bxd6,Bb5,Nf6,Bg5,O-O,Bxc6,bxc6,O-O,h6,Bh4,Be7,Qxd8,Raxd8,e5,Bxf3', 'exf6,Bxf6,Bxf6', 'https://lichess.org/training/TDK3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDl6N', 'Rapid', 'm4rbel', 1946, 'luprinci', 1881, 'e4,e5,Nc3,Nf6,f4,d5,fxe5,Nxe4,Nf3,Bc5,d4,Bb4,Bd2,O-O,Bd3,Bxc3,bxc3,f6,O-O,Bg4,Qe1,fxe5,Bxe4,dxe4,Qxe4,Bxf3,Rxf3,Rxf3,Qxf3,exd4,Rf1,Nc6,cxd4,Nxd4,Qf7+,Kh8,Bc3,c5,Bxd4,cxd4,Qxb7,h6,Qe4,Rc8,Rd1,Qf6,Rf1,Qb6,Kh1,Qb2,h3,Qxc2', 'Rf8+,Rxf8,Qxc2', 'https://lichess.org/training/tDl6N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tdLoA', 'Rapid', 'BloodyNinefingers', 1531, 'ismailtanis', 1559, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,a6,Nbd2,e6,a3,Nc6,O-O,Be7,Re1,O-O,Nf1,b6,Be3,Bb7,Qd2,Nd4,Nxd4,cxd4,Bxd4,d5,Bb3,dxe4,dxe4,Nxe4,Qe3,f5,Ng3,Nxg3,Qxg3,Qxd4,Rxe6,Qxb2,Rxe7+,Kh8,Rae1,Rg8,Rxb7,Rae8,h3,Rxe1+,Kh2,Qc1', 'Qxg7+,Rxg7,Rb8+,Re8,Rxe8+,Rg8,Rxg8#', 'https://lichess.org/training/tdLoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TDMdC', 'Rapid', 'niedo365dnejvgodu', 1760, 'phraise', 1846, 'd4,d5,Bf4,e6,Nf3,Nf6,h3,Bb4+,c3,Ba5,e3,O-O,Nbd2,Nbd7,Bb5,c5,O-O,cxd4,Nxd4,a6,Ba4,Nc5,Bb3,Nd3,Bh2,Nxb2,Qc2,Nc4,Nxc4,dxc4,Bxc4,b5,Bb3,Bd7,Rad1,Rc8,Nxe6,fxe6,Bxe6+,Kh8,Rd3,Qe7,Bb3,Rfd8,Bd6,Qe8,f4,Bf5,c4,Bxd3,Qxd3,bxc4,Bxc4,Rxc4,Qxc4,Rxd6,Kh1,Re6,Qc5,Bb6,Qc4,Bxe3,Re1,Re4,Qc3,Nd5,Qa3,h6,f5,Ra4,Qd3,Rxa2,Qxd5,Rd2', 'Qxd2,Bxd2,Rxe8+', 'https://lichess.org/training/TDMdC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDmKP', 'Rapid', 'ManikMalaya', 1958, 'BishopEmpire', 1943, 'c4,c5,Nf3,Nf6,e3,b5,cxb5,d5,Ne5,e6,Nc6,Nxc6,bxc6,Qb6,a4,Bd6,Nc3,a6,Bd3,O-O,Bc2,Qxc6,d4,cxd4,exd4,Qc4,Bd3,Qc7,Bd2,e5,dxe5,Bxe5,Rc1,Qd6,Ne2,Re8,h3,Bxb2,Rb1,Be5,O-O,Be6,f4,Qc5+,Kh1,Bd4,Bb4,Qc8,Nxd4,Bxh3,f5,Bg4,Qd2,Re5,Bc3,Ne4,Bxe4,Rxe4,Rbe1,Qc4,Rxe4', 'Qxf1+,Kh2,dxe4', 'https://lichess.org/training/tDmKP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TDMWG', 'Rapid', 'KortikovVitaliy94', 2052, 'Zythum', 2104, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,O-O,Be2,c5,O-O,Qa5,Bg5,Nc6,d5,Ne5,Bxe7,Re8,Bd6,Nxf3+,Bxf3,Bxc3,Qc2,Bd4,Rac1,Bd7,Rfe1,Ba4,Qb1,Rad8,Bg3,b6,Bh4,f6,Bd1', 'Qxe1#', 'https://lichess.org/training/TDMWG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDNtQ', 'Rapid', 'dobriy77', 1620, 'King_Decaf', 1641, 'e4,e5,d4,exd4,Bc4,Nc6,Nf3,Nf6,Bg5,Bb4+,c3,dxc3,bxc3,Bc5,e5,h6,Bxf6,gxf6,exf6,d5,Bb5,Qe7+,Qe2,Qxe2+,Kxe2,Bd7,Re1,O-O-O,Kf1,Rde8,Nbd2,a6,Ba4,Nd4,Bxd7+,Kxd7,Nxd4,Ba3,N2b3,Bb2,Rab1,Bxc3,Nf5,Bxe1,Rxe1,Rxe1+,Kxe1,Re8+,Kf1,Ke6,Nxh6,Kxf6,Nd4,c5,Nb3,c4,Nd4,c3,Nc2,b5,Ng4+,Kg6,Nge3,d4,Nxd4,b4,Nc6,Rxe3', 'fxe3,c2,Ne5+', 'https://lichess.org/training/tDNtQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TDo5T', 'Rapid', 'rPo6_ALEG_SHASHIST', 2253, 'Ghost_Protocol', 2199, 'e4,Nc6,d4,e5,d5,Nce7,Nf3,Ng6,c4,Bb4+,Bd2,Bxd2+,Nbxd2,Nh6,Be2,d6,Nf1,O-O,Ne3,Nf4,O-O,f5,Nd2,Nxe2+,Qxe2,f4,Nd1,Qh4,f3,g5,Nf2,Rf6,b4,Kh8,h3,Nf7,Ng4,Rg6,Qf2,Qxf2+,Nxf2,h5,Nd3,g4,hxg4,hxg4,Kf2,g3+,Ke2,Bd7,a4,Kg7,Rh1,Rh8,Rxh8,Kxh8,c5,Rh6,Ne1,Rh1,Nc4,Kg7,cxd6,cxd6,b5,Kf6,Rc1,Ke7,Na5,b6,Nc6+,Bxc6,Rxc6,Kd7,a5,Nd8,axb6,axb6,Rxb6,Kc7,Ra6,Nb7,b6+,Kb8,Ra7,Rg1,Ra2,Nc5,Rb2', 'Rxe1+,Kxe1,Nd3+,Ke2,Nxb2', 'https://lichess.org/training/TDo5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDP5K', 'Rapid', 'Knightrider4991', 2055, 'legotin', 2019, 'e4,c6,d4,d5,Nd2,h6,e5,Bf5,Ne2,e6,Ng3,Bh7,Nf3,c5,c3,Nc6,Bb5,Qb6,a4,Ne7,O-O,a6,Bd3,Bxd3,Qxd3,cxd4,cxd4,Nb4,Qb3,Nec6,Be3,Be7,Rfc1,O-O,Rc3,Na5,Qd1,Rfc8,Qd2,Nc4,Rxc4,Rxc4,Bxh6,g6,Bg5,Bxg5,Qxg5,Rac8,h3,Qd8,Qd2,Nc2,Rc1,Nxd4,Nxd4,Rxc1+,Kh2,Qb6,Qg5,Qxd4,Nh5,Kf8,Qh6+,Ke7,Qg5+,Kd7,Nf6+,Kd8,Nxd5+,Kd7', 'Qe7+,Kc6,Qd6#', 'https://lichess.org/training/tDP5K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tdPjj', 'Rapid', 'jazevo', 1790, 'oktavian2200', 1801, 'd4,Nh6,e4,e6,c4,d5,cxd5,exd5,f3,dxe4,fxe4,Bb4+,Bd2,Qxd4,Nf3,Qxe4+,Be2,Bxd2+,Nbxd2,Qb4,O-O,O-O,b3,Bg4,Qc2,Qb6+,Kh1,Bxf3,Nxf3,Nc6,Ng5,g6,Bc4,Ne5,Ne4,Nxc4,Nf6+,Kg7,Qc3,Qc6,Ng4+,Kg8', 'Nxh6#', 'https://lichess.org/training/tdPjj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDPQJ', 'Rapid', 'kudo555', 1846, 'Havel_The_Rook', 1888, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,dxc6,Qxd8+,Kxd8,e5,Nd5,c4,Nb4,Kd1,Bf5,Na3,Ke7,Bd2,Rd8,Kc1,Ke6,f4,Be7,Be2,Rd7,g4,Be4,Re1,Bd3', 'f5+,Bxf5,gxf5+', 'https://lichess.org/training/tDPQJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TdRs5', 'Classical', 'slaiyn', 1935, 'Axp156', 1946, 'Nf3,d5,c4,d4,e3,c5,b4,cxb4,Nxd4,e5,Nf3,e4,Nd4,Nf6,Bb2,Be7,Be2,O-O,O-O,Nbd7,f3,Nc5,fxe4,Nfxe4,Nf5,Bf6,d4,Bd7,Qe1,a5,Nd2,Re8,Nxe4,Nxe4,Bd3,Qc7,c5,Bc6,Rc1,Bd5,Rf4,h6,Bxe4,Bxe4,Nxh6+,Kf8,Qf2,Bd5,Rf1,Ra6,Nf5,Bg5,Rg4,Rh6,Nxh6', 'Bxe3,Qxe3,Rxe3', 'https://lichess.org/training/TdRs5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tdsPb', 'Rapid', 'GamerAdnan', 1989, 'ghippi', 1932, 'e4,e5,Nc3,Nf6,f4,exf4,d4,d6,Bxf4,Nc6,Bb5,Bd7,Bxc6,bxc6,Nge2,Qe7,e5,dxe5,dxe5,Nh5,O-O,Nxf4,Nxf4,g6,Qf3,Bg7,e6,fxe6,Nxe6,Bxe6', 'Qxc6+,Qd7,Qxa8+', 'https://lichess.org/training/tdsPb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDTHe', 'Classical', 'DiegoMartins9198', 1882, 'RadivojeDjedovic', 1944, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,Be7,Ne5,Nbd7,e3,dxc4,Bxc4,Nxe5,dxe5,Nd5,Bxe7,Qxe7,a3,Nxc3,bxc3,Qc5,Qd4,Qe7,O-O,O-O,Rfd1,b6,Qg4,Bb7,Rd6,Rad8,Rad1,c5,f4,Be4,R1d2,g6,Bb5,Qc7,Qg5,Bd5,c4,a6,cxd5,Rxd6,exd6,Qxd6,Be2,Rd8,e4,b5,e5,Qc7,d6,Qa5,Rd1,c4,Qe7,Kg7,Qf6+,Kg8,Qe7,Kg7,a4,Rf8,d7,Rd8,h3,Qc7,Qd6,Qa5,Kh2,c3,axb5,c2,Rc1,Qa4,g3,Qe4,Qd3,Qxd3,Bxd3,Rxd7,Bxc2,Rd2+,Kg1,axb5,Be4,b4,Rb1,Rd4,Bc2,f6,exf6+,Kxf6,Kf2,e5,Ke3,Rc4,Kd3,Rc3+,Kd2,Rxg3,Rxb4,exf4,Rxf4+,Kg5,Rf2,Rxh3,Rg2+,Kf6,Ke2,g5,Kf2,h5,Rg3,Rh2+,Rg2,Rh4,Rg3,Rc4,Bd1,h4,Rg4,Rc3,Bf3,Kf5,Re4,Ra3,Re2,g4,Be4+,Kf4,Bc6,Rc3,Bb7,Rc4,Kg2,Rb4,Rf2+,Kg5,Bd5,h3+,Kh2,Kh4,Re2', 'g3+,Kg1,Rb1+,Re1,Rxe1#', 'https://lichess.org/training/tDTHe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDU5I', 'Blitz', 'm-joker', 2025, 'seque71', 1940, 'd4,c6,e4,d5,e5,e6,Nf3,c5,c3,Nc6,Bb5,Qb6,Bxc6+,bxc6,O-O,Bd7,Bg5,cxd4,cxd4,Qxb2,Nbd2,Bb4,Rb1,Qa3,Rb3,Qa5,Qb1,Be7,Bxe7,Nxe7,Rb8+,Rxb8,Qxb8+,Nc8,Qb7,Qd8,Nb3,O-O,Nc5,Be8,Rb1,Qa5,Qxc8,Qxa2,Qb7,a5,h3,h6,Kh2,Qxf2,Rb2,Qe3,Qe7,Qf4+,g3,Qc1,Rf2,Qe3,Kg2,a4,Nxa4,c5,Nxc5,Bb5,Nh4,Bd3,Nxe6,Be4+,Kg1', 'Qe1+,Rf1,Qxg3+,Ng2,Qxg2#', 'https://lichess.org/training/tDU5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDus1', 'Classical', 'Logus', 1774, 'Nurs1', 1831, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Be7,Qg4,g6,Nc3,Bf6,Be3,Bg7,f4,Nf6,Qf3,O-O,e5,dxe5,fxe5,Nd5,Rad1,Bxe5,Nxd5,cxd5,Rxd5,Qe7,Bc5,Bd6,Bxd6,cxd6,Qf6,Qe4,Rxd6,Qxc2,Rfd1,Rab8,R6d2,Qe4,Qf3,Qe6,b3,Rfe8,h3,Rb4,Rd8', 'Qb6+,Kh1,Rxd8', 'https://lichess.org/training/tDus1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TdUso', 'Classical', 'Giannipp', 1674, 'Rumoleg', 1630, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,b6,e4,d6,Bg5,Bb7,Be2,Nbd7,e5,dxe5,dxe5,Ne4,O-O,Nxc3,bxc3,Nxe5,Nxe5,Bxe5,Qb3,h6,Rad1,Qc8,Bc1,Qe6,Rfe1,Qf6,Bb2,Qh4', 'Qb5+,c6,Qxe5', 'https://lichess.org/training/TdUso');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDvQ5', 'Rapid', 'Fedrick', 1953, 'adam2247', 1950, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,Be3,O-O,f3,a6,Qd2,b5,Bb3,Bb7,O-O-O,b4,Nce2,a5,Ba4,Qc7,g4,d6,Nb5,Qc8,h4,Ne5,Ned4,Nc4,Qe2,Nxe3,Qxe3,e6,Nxd6,Qb8,Nxb7,Qxb7,Bc6,Qc7,Bxa8,Rxa8,h5,a4,hxg6,hxg6,Rd3,b3,axb3,axb3,Nxb3,Nd7,f4,Ra2,e5,Nxe5,fxe5,Bxe5,c3', 'Bf4,Kb1,Bxe3', 'https://lichess.org/training/tDvQ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDw3B', 'Rapid', 'ABO-SIF-1000', 1845, 'Money4memes', 1864, 'e4,c6,Nc3,d5,exd5,Nf6,dxc6,Nxc6,Nf3,e5,Bb5,Qe7,O-O,e4,Re1,a6,Bxc6+,bxc6,d3,Qd8,Bg5,Be7,Nxe4,O-O,Nxf6+,Bxf6,Bxf6,Qxf6,Qe2,Qxb2,Ne5,Re8,Qh5,Be6,Nxc6,Qxc2,Nd4,Qc3,Nxe6,Rxe6,Rec1,Qxd3,Qh4,Rd8,Qg4,Rg6,Qc8,Qd5,g3,Rd6,Qg4,a5,Rd1,Qe6,Rxd6,Qxd6,a4,h6,Qe2,g6,Qb5,Qd2,Qb6,Kg7,Rb1,Re8,Rf1,Re4,Qc6,Qd4,Rb1,h5,Rb7,h4,Qc7,Qa1+,Kg2', 'h3+,Kxh3,Qf1#', 'https://lichess.org/training/tDw3B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TdwcF', 'Rapid', 'Kuba_2006', 1799, 'angelinrica', 1888, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,b6,Bd2,Bc5,Qd3,Qf6,Nf3,Ne5,Nxe5,Qxe5,Nc3,Nf6,O-O-O,Bxf2,Qb5,Qxb5,Nxb5,O-O,Nxc7,Rb8,Bd3,Rb7,Nd5,Nxd5,exd5,d6,Bb5,Rc7,Bc6,Bb7,Bxb7,Rxb7,Bf4,Bc5,g4,h6,h4,Re8,h5,Re4,Rdf1,Be3+,Bxe3,Rxe3,Rfg1,Rc7,g5,hxg5,Rxg5,Kh7,Rf5,Re2,c3,b5,Rhf1,b4,Rxf7,Rxf7,Rxf7,bxc3,Rxa7,cxb2+,Kb1,Kh6,Rb7,Kxh5,a4,Re5,a5,Rxd5,a6,Ra5,a7,d5,Rxg7,Kh6,Rd7,d4,Rd6+,Kg5', 'Rd5+,Rxd5,a8=Q', 'https://lichess.org/training/TdwcF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TdweR', 'Blitz', 'DenisEgea', 1958, 'cippo91', 2027, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Bc5,Be3,Qb6,Na4,Qa5+,Nc3,Nxd4,Bxd4,Bxd4,Qxd4,Nf6,O-O-O,a6,e5,Nd5,Nxd5,exd5,Qxd5,Qb4,Bc4,O-O,Rhe1,d6,exd6,Be6,Rxe6,fxe6,Qxe6+,Kh8,d7,b5,Bb3,a5,Qe5,a4,Be6,a3,b3,Qe7,f4,Qh4,g3,Qxh2,Bd5,Rad8,Rh1,Qxg3', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/TdweR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TdwSi', 'Rapid', 'Epos67', 2114, 'superjero', 2036, 'e4,d5,b3,dxe4,Nc3,Nf6,Qe2,c6,Bb2,Bf5,h3,e6,g4,Bg6,Bg2,Bc5,Nxe4,Be7,O-O-O,Nbd7,f4,Nxe4,Bxe4,Bxe4,Qxe4,Bf6,d4,O-O,g5,Be7,h4,Qa5,Kb1,Ba3,Ba1,Nb6,h5,Nd5,Ne2,Rfd8,g6,h6,gxf7+,Kxf7,Qg6+,Kg8,Qxe6+,Kh8,c4,Re8,Qg4,Ne3,Qf3,Nxd1,Rxd1,Qf5+,Rd3,Re7,Bc3,Rae8,Ng3,Qh3,Kc2,Qh2+,Rd2,Qh3,d5,cxd5,Be5,dxc4,bxc4,Qe6,Rd5,Bb4,f5,Qa6,Qf4,Qxa2+,Bb2,Re1', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/TdwSi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tdxXG', 'Classical', 'v_clava38', 1837, 'damien-13', 2134, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bg4,O-O,e6,h3,Bh5,Bf4,Bd6,Bxc6+,bxc6,Bxd6,Qxd6,Qd3,Bxf3,Qxf3,Nf6,Nc3,c5,Rfd1,O-O,b3,Rfc8,Nb5,Qb6,c4,a6,dxc5,Qxc5,Nc3,dxc4,Rdc1,Nd5,Na4,Qb5,bxc4,Rxc4,Rxc4,Qxc4,Nb2,Qd4,Qb3,g6,Qb7,Qa7,Qc6,a5,a3,Rb8,Nc4,a4,Rc1,Rb3,Qe8+,Kg7,Qc6,Nc3,Rf1,Nb5,Ra1,Qd4,Ra2,h5,Kh2,Qc3,Qc5,Nxa3,Rxa3', 'Rxa3,Qxa3,Qxc4', 'https://lichess.org/training/tdxXG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDYmp', 'Rapid', 'Warroco', 1926, 'MSadick', 2077, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,g6,Bg2,Bg7,O-O,Nge7,Re1,O-O,h4,h5,Nf1,Qc7,Qe2,Re8,e5,b6,Bf4,Bb7,N1h2,Nf5,g4,Nfd4,Nxd4,Nxd4,Qd1,hxg4,Nxg4,f5,Nh2,Kf7,c3,Nc6,Nf3,d4,Qb3,Na5,Ng5+,Kg8,Qc2,Bxg2,Kxg2,Qc6+,Kg3,Qd5,c4,Qc6,Rh1,Qc7,h5,Bxe5,Bxe5,Qxe5+,f4,Qe3+,Nf3,g5,fxg5,e5,Rae1,Qf4+,Kf2,e4,dxe4,fxe4,Rxe4,Rxe4,h6,Rf8,Rh3,Qg4,Qd3,Re3', 'Qg6+,Kh8,Qg7#', 'https://lichess.org/training/tDYmp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tdYxm', 'Rapid', 'shahid1963', 1770, 'ahyh75', 1763, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d4,Bb4+,Nc3,Qe7,Be2,Bxc4,Be3,Bxe2,Nxe2,Ne4,O-O,Bxc3,Nxc3,Nxc3,bxc3,O-O,Qb3,b6,a4,Nc6,c4,Na5,Qc3,Rac8,c5,Rfd8,h3,Qe6,Rfd1,Qd5,Rac1,Nb3,Rb1,Na5,Rdc1,h6,Rb5,a6,Rbb1,Nc6,cxb6,cxb6,Qb2,Nxd4,Rxc8,Nf3+,gxf3,Rxc8,Qe2,b5,axb5,axb5,Rxb5,Qe6,Rb1', 'Qg6+,Kh2,Qxb1', 'https://lichess.org/training/tdYxm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDZ3j', 'Blitz', 'FistKing', 1608, 'wandderlust', 1922, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bf5,Bc4,e6,O-O,c6,Nh4,Bg6,Nxg6,hxg6,Bg5,Be7,d5,cxd5,Bb5+,Nc6,Qf3,a6,Bd3,Rh5,Rad1,Rxg5,Be2,Qc7,Qh3,O-O-O,f4,Rh5,Bxh5,Nxh5,f5,exf5,Nxd5,Rxd5,Rxd5,Nf6,Qh8+,Nd8,Rd3,Qxc2', 'Rc3+,Qxc3,bxc3,Bc5+,Kh1', 'https://lichess.org/training/tDZ3j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDzp4', 'Rapid', 'Robert112', 1785, 'Hakaaan', 1683, 'd4,Nf6,c4,c6,Nc3,d5,c5,Bf5,Bf4,b6,Bxb8,Rxb8,b4,bxc5,bxc5,Qa5,Qd2,g6,f3,Bh6,e3,Qa3,Nge2,Rb2,Qc1,O-O,h3,Rfb8,Kf2,Qa5,g4,Bd3,h4,Nd7,g5,Bg7,h5,e5,hxg6,fxg6,Bh3,exd4,exd4,Bxd4+,Kf1,Ne5,Be6+,Kg7,Kg2,Bxc3,Rxh7+,Kxh7', 'Qh1+,Kg7,Qh6#', 'https://lichess.org/training/tDzp4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tDztx', 'Classical', 'dripto_123', 1669, 'Zadh', 1608, 'd4,Nf6,c4,g6,Nc3,d6,e3,Bg7,Nf3,O-O,Bd3,Re8,e4,Nbd7,O-O,e5,Nd5,Nxd5,cxd5,c6,dxe5,dxe5,Bg5,Bf6,Bh6,cxd5,exd5', 'e4,Bxe4,Rxe4', 'https://lichess.org/training/tDztx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TE0iB', 'Rapid', 'insidethezone', 1919, 'Ustaoguzhan1', 1740, 'd4,e6,c4,d5,Nf3,c5,e3,cxd4,exd4,Nc6,Nc3,Nf6,Be2,Bb4,O-O,Bd7,Bg5,h6,Bh4,Qc7,Bxf6,gxf6,Nb5,Qf4,a3,Ba5,b4,Bb6,cxd5,exd5,g3,Rg8,Kh1,Bh3,gxf4', 'Bg2+,Kg1,Bxf3#', 'https://lichess.org/training/TE0iB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TE0v1', 'Classical', 'DemolitianKnight', 1775, 'G-a-b-r-i-e-l-e', 1796, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd3,g6,f4,Bg7,Nf3,Nf6,Be2,Nb4,Qb3,Qc7,Nd4,Nc6,Nb5,Qb6,Be3,Qa5+,Bd2,Qb6,N1c3,a6', 'Nd6+,exd6,Qxb6', 'https://lichess.org/training/TE0v1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Te1M9', 'Rapid', 'Drinking_Beer', 1705, 'andrewqiu', 1695, 'e4,c5,d4,cxd4,c3,d6,cxd4,Nf6,Bd3,g6,h3,Bg7,Nf3,d5,e5,Ne4,O-O,Bf5,Re1,e6,g4,Bxg4,hxg4,h5,Bxe4,hxg4,Bg5,Qb6,Nh4,dxe4,Rxe4,Qxb2,Nd2,Bh6,Rb1,Qxa2,Bxh6,Rxh6,Rxg4,Nc6,Rxb7,Qd5,Rf4,g5,Qg4', 'Rxh4,Qxh4,gxh4', 'https://lichess.org/training/Te1M9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TE2Z5', 'Rapid', 'RadamesKof', 1820, 'Marsolo', 2040, 'd4,d5,c4,Nf6,Nc3,a6,Nf3,dxc4,e4,b5,Be2,Bb7,d5,e6,O-O,Be7,a4,b4,e5,Nxd5,Nxd5,exd5,e6,fxe6,Ne5,O-O,Bh5,Nc6,Nf3,Bf6,Re1,e5,Bg4,e4,Be6+,Kh8,Nd2,Ne5,Nf1,Nd3,Re3,Bd4,Rh3,Bxf2+,Kh1,Ba7', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/TE2Z5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TE4qC', 'Blitz', 'CM mikromurks', 2383, 'TysonT', 2363, 'e4,c5,d4,cxd4,c3,d5,e5,dxc3,Nxc3,e6,Nf3,Bb4,Bd3,Ne7,O-O,Ng6,Ne2,Nc6,Nf4,Ngxe5,Nxe5,Nxe5,Bb5+,Bd7,Qa4,Be7,Re1,Bf6,Nxd5,exd5,Bf4,O-O,Bxe5,Bxe5,Rxe5,Be6,Rd1,Qf6,Qd4,a6,Ba4,Rac8,Bb3,Rfd8,h3,h6,f4,Rc6,Rf1,Rcd6,f5,Bd7,Qf4,Bc6,Rd1,d4,g4,d3,Rd2,Rd4,Qe3,Qh4,Re7,R4d7,Bxf7+,Kf8', 'Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/TE4qC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('te4Tk', 'Rapid', 'Magiuru', 1625, 'Drincianu', 1645, 'e4,e5,d4,exd4,Nf3,d6,Bc4,f6,Nxd4,Ne7,Nc3,Nbc6,Nd5,Nxd5,exd5,Nxd4,Qxd4,Bf5,Bf4,g5,O-O,gxf4,Qxf4,Qd7,Rfe1+,Be7,Kf1,Bxc2,Rxe7+,Kxe7,Re1+,Kf7,Re6,Bg6', 'Qxf6+,Kg8,Re7,Qxe7,Qxe7', 'https://lichess.org/training/te4Tk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tE4Un', 'Rapid', 'tuture97', 1743, 'Exrich', 2154, 'e4,c6,d4,d5,e5,c5,c3,Nc6,f4,cxd4,cxd4,Qb6,Nf3,Bg4,Nc3,e6,Bb5,Bxf3,Bxc6+,bxc6,Qxf3,Qxd4,Be3,Qd3,Rd1,Qa6,f5,Ne7,fxe6,fxe6,Ne2,Nf5,O-O,Nxe3,Qf7+,Kd8,Nd4,Qb6,Nxe6+,Kc8,Qe8+,Kb7,Qd7+,Ka6', 'Nc7+,Ka5,Nxa8', 'https://lichess.org/training/tE4Un');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Te6Z5', 'Rapid', 'rigoberto_22', 2082, 'lauferlovac', 2201, 'e4,g6,d4,Bg7,f4,b6,Nf3,Bb7,Nc3,c5,dxc5,Bxc3+,bxc3,bxc5,Bd3,d6,O-O,Nd7,Bb2,Ngf6,c4,O-O,h3,Qc7,Rb1,a5,g4,Bc6,f5,a4,a3,Rab8,Qd2,e5,Qh6,Rfd8,g5,Nh5,f6,Nf8,Nh4,Ne6,Be2,Nhf4,Bg4,Bxe4,Rxf4,exf4,Bxe6,fxe6,Re1,d5,Be5,Qf7,Bxb8,Rxb8,cxd5,exd5,Nf3,Qf8,Qxf8+,Kxf8,Ne5,Rb2,Nd7+,Kf7,Nxc5,Rxc2,Nxe4,dxe4,Rxe4,Rc5,h4,h6', 'Re7+,Kf8,gxh6,Rh5,h7', 'https://lichess.org/training/Te6Z5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TE91D', 'Rapid', 'dudule9', 1614, 'Acidicgriller', 1659, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,Nc6,Bb3,a6,Ne2,Nxe4,Ng3,Nf6,Bg5,Qb6,Qd2,Re8,Rfe1,Qb4,Qe3,Na5,Bh6,Nxb3,axb3,Bh8,Ra4,Qb5,Qd2,d5,Ne5,Qxb3,Rb4,Qa2,Qc2,a5', 'Ra4,Qxa4,Qxa4', 'https://lichess.org/training/TE91D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TEAfz', 'Rapid', 'Danismentoglu', 1758, 'wjadro2', 1720, 'e4,c5,Qh5,e6,Nf3,Nf6,Qh4,Be7,Qf4,d5,e5,Nfd7,Bb5,Nc6,Bxc6,bxc6,d4,Qa5+,Bd2,Qb5,b3,O-O,a4,Qb7,O-O,f6,Qg4,f5,Qh5,Rf7,dxc5,Bxc5,Ng5,Nxe5,Qxh7+,Kf8,Nxf7,Kxf7,Qh5+,Kf8,Qh8+,Kf7,Qh5+,Kf8,Qg5,Be7,Qg3,Bf6,Kh1,Qf7,f4,Ng4,h3,Nh6,Bb4+,Be7,Bxe7+,Kxe7,Qc3,Bd7,Qc5+,Kd8,Nc3,Kc7,b4,Qh5,Nb5+,Kb7,Nd6+,Kc7,b5,Ng4,bxc6,Nf6,cxd7+,Kxd7,Nb5,Rc8,Qd6+,Ke8,Qxe6+,Kd8,Qd6+,Ke8,Rae1+,Kf7,Re7+,Kg6,Rc7,Rxc7,Qxc7,Qe2,Rg1,Ne4,Qc6+,Kh7,Qxd5,Ng3+,Kh2,Nf1+,Rxf1,Qxf1,Qxf5+,Kg8,Nd6,Kh8,Qf8+,Kh7,Nf7,Qxf4+,Kh1,Qf1+,Kh2,Qf4+,Kg1,Qe3+,Kf1,Qf4+,Ke1,Qe3+,Kd1,Qg1+,Kd2,Qf2+,Kc3,Qe3+,Kb2,Qb6+,Ka3,Qe3+,Kb4,Qb6+,Kc4,Qc6+,Kd4,Qb6+,Ke5,Qe3+,Kd6', 'Qa3+,Kd5,Qxf8', 'https://lichess.org/training/TEAfz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tEc2D', 'Rapid', 'andirin', 1971, 'hilander46', 2003, 'd4,Nf6,c4,Nc6,Nf3,e6,a3,Be7,Nc3,d5,e3,O-O,Bd3,dxc4,Bxc4,e5,dxe5,Qxd1+,Kxd1,Ng4,Ke2,Ngxe5,Ba2,Bg4,h3,Bxf3+,gxf3,Rad8,Nd5,Bd6,b4,Ne7,Nxe7+,Bxe7,Bb2,Bf6,f4,Nd7,Bxf6,Nxf6,Rhd1,Ne4,Rxd8,Rxd8,Kf3,Nd2+,Kg2,Kf8,Rd1,Ke7,f3,c6,Kf2', 'Ne4+,Ke1,Rxd1+,Kxd1,Nc3+,Kc2,Nxa2', 'https://lichess.org/training/tEc2D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tecu1', 'Rapid', 'DumberBrain', 1877, 'Wellfuk', 1828, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,Nc6,h3,e6,Ne5,Nxe5,Bxe5,Bd6,Nd2,O-O,Nf3,Nd7,Bh2,Bxh2,Nxh2,c5,c3,cxd4,exd4,Rc8,Nf3,Re8,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,a5,a3,a4,Ba2,Qd7,Ne5,Qc7,g4,Bg6,Nxg6,hxg6,Bb1,Nh7,Qf3,Ng5,Qg2,Qf4,Bd3,Qd2,Bxb5,Re7,Rab1,Rb7,Rfd1,Qc2,Bd3,Qb3,f4,Nh7,Bc2,Qc4,Bd3,Qc7,c4,dxc4,Bxc4,Rb6,Rdc1,Qd7,Qd2,Rbc6,Bb5', 'Rxc1+,Rxc1,Rxc1+,Qxc1,Qxb5', 'https://lichess.org/training/tecu1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tECuv', 'Blitz', 'ASHRAF1973', 1655, 'luizmeirelles5', 1647, 'b4,Nc6,a3,e5,e3,d5,Bb2,a6,g3,Nf6,Bg2,Bg4,f3,Be6,Ne2,Be7,O-O,Qd7,Rf2,Bh3,Bh1,e4,f4,Ng4,Nbc3,Nxf2,Kxf2,Bg4,b5,Bxe2,Qxe2,axb5,Nxb5,O-O,Bg2,g6,Nc3,f5,Bh3,d4,exd4,Nxd4,Qc4+,Ne6,Nd5,Bc5+,Kg2,b5,Qb3,Rfd8,Nf6+,Kf8,Nxd7+,Rxd7,Qxe6,Rxd2+,Kf1,Rf2+,Ke1,Rd8,Qf6+,Ke8,Qh8+,Kd7,Qxh7+,Kc8,Rc1,Rdd2,Qg8+,Kb7,Bf1,e3,Qg7,Rd6,Qxg6,Rxg6,c4,bxc4,Be5,Bb6,Rxc4,Rc6,Rxc6,Kxc6,a4,Ba5+,Kd1,Kd5,Bb5,Rxh2,Ba6,Rh1+,Ke2,Ke4', 'Bb7+,c6,Bxc6#', 'https://lichess.org/training/tECuv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TED02', 'Rapid', 'Positional_game', 2171, 'MI_Nakamura87', 2485, 'c4,e5,b3,Nf6,Bb2,Nc6,g3,d5,cxd5,Qxd5,Nf3,Bf5,Nc3,Qa5,a3,O-O-O,b4,Qb6,Na4,Qa6,e4,Qxf1+,Kxf1,Nxe4,Kg2,Bh3+,Kxh3,Nxf2+,Kg2,Nxd1,Rhxd1,f6,d4,e4,Nd2,f5,Nc4,h5,d5,Nb8,Ne3,f4,gxf4,Nd7,Be5,Rh6,Rac1,Bd6,Bxd6,Rg6+,Kf2,Rxd6,Nf5,Rf6,Nxg7,Rxf4+,Ke3,Rf3+,Kxe4,Rxa3,Nc5,Nf6+,Kd4,b6,Nce6', 'Rxd5+,Kc4,b5#', 'https://lichess.org/training/TED02');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TeDCd', 'Rapid', 'betyarkorte', 1749, 'ednos', 1645, 'd4,d5,Bf4,e6,Nf3,Nc6,c4,dxc4,Nc3,a6,a4,Na5,e3,Bb4,Be2,h6,O-O,Nf6,Rc1,Nb3,Bxc4,Nxc1,Qxc1,Bxc3,bxc3,c6,Qc2,Qa5,Rb1,O-O,e4,b5,axb5,cxb5,Bd3,Qd8,Ra1,Bb7,h3,Nh5,Be3,f5,exf5,Bxf3,gxf3,exf5,Bxf5,Qf6,Bg4,Nf4,Qd2,Nd5,Qa2,Rfd8,Rc1,Kh8,c4,bxc4,Rxc4,h5,Bxh5,Nxe3,fxe3,Qg5+,Bg4,Qxe3+,Qf2,Qg5,Rc5,Qg6,Qa2,Rxd4,h4,Rd6', 'Rh5+,Qxh5,Bxh5', 'https://lichess.org/training/TeDCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tEe2Z', 'Blitz', 'Naaas', 2646, 'GM Elda64', 2750, 'd4,d5,c4,dxc4,Nf3,Nf6,e3,Bg4,Bxc4,e6,O-O,Nc6,Nc3,Bd6,h3,Bh5,b3,O-O,Bb2,e5,dxe5,Nxe5,Be2,Qe7,Nxe5,Qxe5,g3,Bg6,Bf3,Rad8,Qe2,Qe6,Bxb7,Qxh3,Bg2,Qe6,Nb5,Be5,Nd4', 'Bxd4,Bxd4,Rxd4', 'https://lichess.org/training/tEe2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TEIVy', 'Blitz', 'Mezzo-piano', 1905, 'bremstra', 1911, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,d6,Nxd4,Ne5,Bb3,Be7,Nc3,a6,f4,Neg4,h3,Nh6,e5,Nfg8,Qf3,Nf5,Nxf5,Bxf5,g4,Bc8,Be3,h5,Rad1,hxg4,hxg4,Nh6,f5,Bg5,e6,Bxe3+,Qxe3,Nxg4,exf7+,Kf8,Qg3,Qg5,Ne4,Qe3+,Qxe3,Nxe3,Rfe1,Nxd1,Nf6,Bxf5', 'Re8+,Rxe8,fxe8=Q#', 'https://lichess.org/training/TEIVy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TeKBu', 'Classical', 'masterjunix', 1926, 'johanissondakh', 1828, 'e4,c5,c3,e6,d4,d5,e5,a6,a4,h6,Nf3,Nc6,Nbd2,b6,b4,cxd4,Nxd4,Nxd4,cxd4,Bxb4,Bd3,Bc3,Rb1,Bxd4,O-O,Bxe5,Nf3,Bd6,Re1,Ne7,Nh4,g5,Nf3,Ng6,Bxg6,fxg6,Qc2,Rg8,Kh1,Bd7,Qa2,Qe7,Rxb6,Kf7,a5,Kg7,Bb2+,Kh7,Qb3,Bb5,Rxd6,Qxd6', 'Nxg5+,hxg5,Qh3#', 'https://lichess.org/training/TeKBu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tekvy', 'Rapid', 'kijek', 2272, 'migz2209', 2219, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,O-O,Bd3,c6,Nf3,Bg4,Qc2,Nbd7,O-O-O,b5,Rdg1,a5,Ne2,b4,Ne5,Nxe5,dxe5,Ne4,Bxe7,Qxe7,Nd4,c5,Nc6,Qe6,Bxe4,dxe4,Qxe4,f5,Qd5,Kf7,Qxe6+,Kxe6,f3,Rfc8,fxg4,fxg4,h3,g3,Rf1,Rxc6,Rf3,Kxe5,Rxg3,Ra7,Rf1,a4,Kb1,a3,Rg5+,Ke4,Rff5,c4,Rc5,Rxc5,Rxc5,Kd3,Rb5,axb2,Kxb2,c3+,Kb3,Rc7,Rd5+,Kxe3,Kc2,Ke4,Rb5,Rc4,Rb7,Rd4,Rxg7,Rd2+,Kb1,Kd3,Rd7+,Kc4', 'Rxd2,cxd2,Kc2,d1=B+,Kxd1', 'https://lichess.org/training/Tekvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tEl94', 'Blitz', 'mukesh1967', 1871, 'ciladuxa', 1875, 'e4,c5,Bc4,Nc6,Nc3,d6,a3,a6,Nf3,Nf6,d3,e6,h3,Be7,O-O,O-O,Ne2,b5,Ba2,d5,Ng3,c4,e5,Nd7,d4,g6,c3,a5,Qd2,Ba6,Qh6,f6,Bb1,Qe8,Nh5,Qf7,Nxf6+,Nxf6,exf6,Bxf6,Bg5,Qg7,Qxg7+,Kxg7,Bxf6+,Rxf6,Bc2,a4,Rae1,Raf8,Ne5,Nxe5,Rxe5,Bc8,f3,Rf5,Bxf5,gxf5,Rfe1,Kf6,R1e3,h5,Kf2,Rg8,f4,Bd7,Rg3,Rxg3,Kxg3,Kg6,Kh4,Kh6,g3,Kg6,g4,hxg4,hxg4,fxg4,Kxg4,Kf6,Kh5,Be8+,Kh6,Bg6,Rg5,Bf5,Rg7,Bc2,Rg5,Bd3,Kh5,Be4,Kg4,Bg2,Kg3,Be4,Rh5,Kg7,Kf2,Bf5,Ke3,Be4,Rg5+,Kf7,Kf2,Bf5,Kg3,Be4,Kg4,Bd3,Rh5,Be2+,Kg5,Bxh5,Kxh5,Kf6,Kg4,Kg6,Kh4', 'Kf5,Kg3,Ke4,Kg4,Kd3,Kg5,Kc2,Kf6,Kxb2', 'https://lichess.org/training/tEl94');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tEMit', 'Rapid', 'bjorking', 2198, 'antongrishenko', 2142, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,e6,Qa4,Be7,Bxb8,Rxb8,Qxa7,Qc7,c5,O-O,Na4,e5,e3,Bf5,Qb6,Qxb6,Nxb6,exd4,exd4,Rfe8,O-O-O,Ne4,Bd3,Bg5+,Kb1,Nxf2,Bxf5,Nxd1,Nh3,Ne3,Bd7,Bf6,Bxe8,Rxe8,Re1,Bxd4,b4,Re7,Nc8,Re5,Nf4,Bc3,Re2,Bxb4', 'Nd3,Re6,Nxb4', 'https://lichess.org/training/tEMit');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TenMd', 'Rapid', 'maratkostrov', 1918, 'Michal006', 2008, 'd4,Nf6,Nc3,e6,e4,c5,d5,exd5,exd5,d6,Bg5,Be7,Bd3,Nxd5,Nxd5,Bxg5,Nf3,Be7,Qe2,Nc6,Bb5,Bg4,O-O,O-O', 'Bxc6,bxc6,Nxe7+', 'https://lichess.org/training/TenMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TePcd', 'Rapid', 'surya_chess007', 1985, 'Shpulink', 1961, 'e4,e5,Bc4,Nc6,Nf3,Bc5,d4,exd4,c3,dxc3,Nxc3,h6,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,d6,Qc4,Nf6,O-O,Qe7,Nd5,Nxd5,exd5,Ne5,Nxe5,dxe5,Qb5+,Qd7,Qc4,Qd6,Re1,Kd8,Be3,Bf5,Bc5,Qf6,d6,c6,Qa4,Kd7,b4,b5,Qa6,Rhb8,a4,Bd3,Rad1,Bc4,f4,Qxf4,Re3,Bd5,axb5,Rxb5,Rxd5,Rxc5,Qb7+,Ke6,Rexe5+,Kf6,Qe7+,Kg6,Rxc5,Rf8,Re1', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/TePcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TEplu', 'Rapid', 'Ak0005', 1853, 'Urukov', 1917, 'e4,d6,d4,g6,Nf3,Bg7,Be3,h6,Nc3,Nd7,Qd2,e5,O-O-O,a6,dxe5,dxe5,h4,Qe7,h5,g5,Bc4,Ngf6,Bb3,b5,Qd3,c5,Bd5,Rb8,Nxg5,hxg5,Bxg5,Bh6,Bxh6,Rxh6,f4,Rxh5,Rxh5,Nxh5,Rh1,Nxf4,Rh8+,Nf8,Bc6+,Bd7,Bxd7+,Qxd7', 'Rxf8+,Kxf8,Qxd7', 'https://lichess.org/training/TEplu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TEPVS', 'Rapid', 'kepitin9', 1950, 'asel1951', 2185, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Bg7,O-O,O-O,Be3,Nc6,f4,Bd7,f5,a6,fxg6,hxg6,a3,Rc8,Bf3,b5,Nxc6,Bxc6,Rc1,Nd7,Bd4,Ne5,Kh1,Qc7,Nd5,Bxd5,exd5,Qc4,b3,Qc7,Be2,Bf6,c4,bxc4,bxc4,Qa5,a4,Bg5,Rc3,Bf6,Qb3,Rb8,Qc2,Rfc8,Rg3,Kg7,Bxe5,Bxe5,Rxf7+,Kxf7', 'Qxg6+,Kf8,Qg8#', 'https://lichess.org/training/TEPVS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TeRye', 'Rapid', 'CrapCrusher', 2010, 'rtc999', 2003, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Nc6,c3,Bd7,Bxc6,Bxc6,d4,cxd4,cxd4,Ne7,O-O,Ng6,g3,Be7,Nc3,O-O,Ne2,Re8,Nf4,Nxf4,Bxf4,Rc8,Rc1,Bb5,Re1,Rxc1,Bxc1,Bb4,Re3,Qb6,b3,Rc8,Ne1,Rc3,f4,Rxe3,Bxe3,Qa5,Qc2,h6,Nf3,Bc3,Nh4', 'Bxd4,Qc8+,Kh7', 'https://lichess.org/training/TeRye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('teS9H', 'Blitz', 'ElmanoSadino', 2211, 'CM jacobomelendez', 2212, 'd4,d5,Nf3,e6,Bf4,f5,c4,Nf6,Nc3,c6,e3,Bd6,Bxd6,Qxd6,c5,Qe7,Ne5,Nbd7,f4,Nxe5,fxe5,Ne4,Nxe4,fxe4,Qh5+,g6,Qh6,Bd7,Be2,O-O-O,O-O,Rdf8,b4,Kc7,a4,Rf5,g4,Rf7,Rxf7,Qxf7,Rf1,Qe7,g5,b6,h4,Rb8,h5,gxh5,Bxh5,Rg8,Rf6,a5,cxb6+,Kxb6,bxa5+,Kxa5,Bf7,Rb8,Qxh7,Qa3,Qh3,Rb3,Kf2,Qb2+,Kg1,Qe2,Rf2,Qe1+,Kg2,Rxe3,Qh1', 'Rg3+,Kxg3,Qxh1', 'https://lichess.org/training/teS9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TEsdR', 'Rapid', 'silentp4wn', 1742, 'AbBuzz', 1848, 'e4,c5,Bc4,Nc6,Nc3,h6,a3,e5,d3,Nf6,Nf3,d6,h3,a6,Ba2,Bd7,O-O,Be7,Nd5,Nxd5,Bxd5,O-O,Nh2,Bg5,f4,exf4,Bxf4,Qf6,Bxg5,Qxg5,Qf3,Qg6,Kh1,Ne5,Qe2,Rab8,Rf2,Bc6,Ba2,Kh8,Raf1,f6,Be6,b5,Bf5,Qf7,Qe3,Ng6,Ng4,Nh4,g3,Nxf5,Rxf5,h5,Nh2,Qg6,Qf3,Be8,g4,h4,Rh5+,Kg8,Rxh4,Qg5,Qg3,Kf7,Nf3,Qg6,Rh5,Ke7,Rd5,Rb6,Kg2,Qh6,h4,Bf7,g5,Qg6,h5,Qh7,gxf6+,gxf6,Qh4,Bxd5,exd5,Qg7+,Kh3,Ke8,h6,Qh7,Qh5+,Kd8,Rg1,Rb7,Rg6,Rbf7,Nh4,Rg8,Rxg8+,Qxg8,Nf5,Kc7,Ng7,Qh7,Qh4,Qh8,Kg2,Qc8,Ne6+,Kb7', 'h7,Qh8,Nd8+,Qxd8,h8=Q', 'https://lichess.org/training/TEsdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TesKw', 'Classical', 'mkrtchyanarmen', 1949, 'HassanAyman', 1849, 'e4,d5,Bd3,dxe4,Bxe4,Nf6,Qf3,Bg4,Qf4,Nc6,Bxc6+,bxc6,Qc4,e5,Qxc6+,Bd7,Qc3,Bd6,Nf3,e4,Nd4,Nd5,Qc4,Nb6,Qe2,O-O,O-O,c5,Nb3,f5,d3,Bb5,Na3,Ba6,Nc4,exd3', 'Qe6+,Kh8,Nxd6', 'https://lichess.org/training/TesKw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tEStp', 'Rapid', 'White-Pawn', 1608, 'CATATUS', 1631, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,Nf6,Bc4,O-O,O-O,c6,Nf3,a5,a4,b6,Be3,Qc7,h3,Nbd7,Qd3,Rd8,Ne2,Ne5,Nxe5,dxe5,Qb3,Rf8,Ng3,Bb7,Rad1,c5,f3,Rad8,Bb5,Bc6,c4,Bxb5,cxb5,Rxd1,Rxd1,Rd8,Nf5,Rxd1+,Qxd1,Bd8,b3,g6,Nd6,Be7,Nc4,Nh5,Bf2,Nf4,Qa1,Ne2+,Kf1,Nd4,Bg3,f6,Qd1,Qd8,Ne3,Ne6,Nd5,Nd4,Nxe7+,Qxe7,f4,exf4,Bxf4,Qe6,Bc7,Kf7,Qd3,Nxb3,e5,f5,Bd6,Nd4,Qd1,Qc4+,Kf2,Ke6,Qe1,Qxa4,Bc7,Qxb5,Qd2,Nc6,Qa2+,Ke7,Bd6+,Kd7,Qf7+,Kd8,Qc7+,Ke8,Qc8+,Nd8,e6,Qb2+,Kg3,Qc3+', 'Kh2,Qg7,e7,Qxe7,Bxe7', 'https://lichess.org/training/tEStp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tev7b', 'Blitz', 'akiskara', 2401, 'FM SNOEBE', 2495, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nf6,d4,Be7,Be2,O-O,O-O,c5,d5,a6,a4,h6,a5,Bf5,Nd2,Nbd7,Nc4,Re8,Bf4,Qc7,Bf3,Bf8,Qd2,Rad8,Rfe1,Rxe1+,Rxe1,Re8,Rxe8,Nxe8,Ne4,Ndf6,Ng3,Bh7,c3,g5,Be3,Ng7,h4,g4,Bd1,h5,Bg5,Be7,Ne3,Qxa5,Bc2,Qd8,Bxh7+,Nxh7,Bxe7,Qxe7,Nef5,Nxf5,Nxf5,Qe5,Ne3,b5,Qd3,Nf6,g3,Kf8,Kg2,Qe4+,Qxe4,Nxe4,f3,gxf3+,Kxf3,Nf6,b4,Ke7,Kf4,Nh7,Kf5,Nf6,bxc5,dxc5', 'd6+,Kxd6,Kxf6', 'https://lichess.org/training/tev7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TEvcJ', 'Rapid', 'FlavioGonzales-UNSA', 2180, 'JuanRodriguez_UNT', 2269, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bb4+,Nbd2,Qe7,a3,Ncxe5,Nxe5,Nxe5,e3,Bxd2+,Qxd2,O-O,Be2,d6,O-O,Be6,Rac1,Rad8,Qc3,Qf6,c5,Qe7,cxd6,cxd6,Bxe5,dxe5,Qxe5,Qd6,Qxd6,Rxd6,Rc7,Rd2,Bf3,Rxb2,Rxb7,Rxb7,Bxb7,Rb8,Bc6,Rc8,Bb5,g6,h3,Kf8,Rd1,Ke7,a4,h5,Rd4,Rc2,g4,hxg4,hxg4,g5,Kg2,Kf6,Kf3,Ke5,Bd3,Ra2,Rb4,Bd5+,Kg3,Kd6,f4,gxf4+,Rxf4,Ra3,Rd4,Ke5,Kh4,f6,Kh5,Bc6,Kg6', 'Rxd3,Rxd3,Be4+,Kh6,Bxd3', 'https://lichess.org/training/TEvcJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TevUs', 'Rapid', 'Nagyc42', 2027, 'sriu', 1653, 'd4,d5,c4,Bg4,Nc3,dxc4,Bf4,c6,h3,Bh5,g4,Bg6,e4,e6,Bxc4,Bb4,Qb3,Bxc3+,bxc3,Qe7,Ne2,Nf6,f3,O-O,h4,Bxe4,fxe4,Nxe4,Bg5,Nxg5,hxg5,Qxg5,Qxb7,Nd7,Qxd7,Qe3,Rd1,Rab8,Bd3,g6,Qxc6,Rb2,Qe4', 'Rxe2+,Bxe2,Qxe4', 'https://lichess.org/training/TevUs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('teVXh', 'Blitz', 'VGyurjyan', 1676, 'Oscar05k', 1664, 'e4,g6,Nf3,Bg7,Bc4,e6,Nc3,Ne7,d4,a6,a4,Nbc6,e5,d6,Bg5,dxe5,dxe5,Qxd1+,Rxd1,Nxe5,Nxe5,Bxe5,O-O,Bg7,Rfe1,Nf5,Rd3,O-O,b3,Nd4,Rd2,c6,Ne4,b5,Nf6+,Bxf6,Bxf6,bxc4,Bxd4,cxb3,cxb3,Bb7,Rd3,Rad8,Red1,Rd5,Bf6,Re8,h4,Rxd3,Rxd3,e5,h5,gxh5,Rg3+,Kf8,Rg7,Rd8', 'Rxh7,Rd1+,Kh2,Ke8,Rh8+,Kd7,Rd8+,Ke6,Rxd1', 'https://lichess.org/training/teVXh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tewp4', 'Rapid', 'pietronontorno', 1625, 'ivek', 1652, 'e4,e5,Nf3,f5,d3,d6,Bg5,Nf6,Nc3,c6,g3,Be7,Bg2,O-O,exf5,Bxf5,O-O,Ng4,Bxe7,Qxe7,h3,Nh6,Ne4,d5,Nc3,Nd7,Re1,Rfe8,d4,e4,Nh4,Be6,a3,Rf8,Qd2,Nf6,Re2,Nf5,Nxf5,Bxf5,Re3,Qe6,Rae1,Bxh3,Bxh3,Qxh3,g4,Qxg4+,Rg3,Qh4,Kg2,Ng4,Rh1,Qxh1+,Kxh1,Rxf2,Qg5,Rf1+,Kg2,Rf2+,Kg1,Raf8,Qxg4,Rf1+,Kh2,R8f2+,Rg2,Rf7,Qc8+,Rf8,Qxb7,R8f7,Qa8+,Rf8,Qxc6,R8f6,Qxd5+,Kf8,Qxe4,Rh6+,Kg3,Rg6+,Kh4', 'Rh1+,Rh2,Rxh2#', 'https://lichess.org/training/tewp4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('teWX2', 'Rapid', 'princedinesh', 1758, 'Bamza', 1879, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,Nf6,g3,Bg4,Bg2,Ne4,h3,Bh5,O-O,e6,Qd3,Bg6,Ne5,Nxe5,dxe5,Nxc3,Qxc3,Rc8,Qb3,b6,c3,Bc5,Qb5+,Qd7,Qe2,O-O,Be3,Bxe3,Qxe3,Qb5,b4,Qc4,Rfc1,Rc7,Bf1,Qe4,Qd2,Rfc8,Bg2,Qd3,Qxd3,Bxd3,a4,Rxc3,Rxc3,Rxc3,b5,Rc4,f4,Bc2,Bf1,Rxa4', 'Rc1,g5,Rxc2', 'https://lichess.org/training/teWX2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TEx8A', 'Blitz', 'kennamwanza', 1803, 'mcos', 1892, 'd4,d5,f3,e6,Bf4,f5,Nc3,c6,Bg3,Nf6,Qd2,Bd6,O-O-O,O-O,Nh3,Qe7,e3,b5,Bd3,a5,f4,Ba6,Ng5,h6,Nf3,Nbd7,h3,Nb6,Ne5,Bxe5,fxe5,Ne4,Nxe4,fxe4,Be2,Nc4,Bxc4,bxc4,c3,Rfb8,Qf2,Rb7,Bf4,Rab8,Rd2,a4,a3,Qxa3,bxa3', 'Rb1+,Kc2,R8b2#', 'https://lichess.org/training/TEx8A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tEXOX', 'Rapid', 'BP9Sharma', 2017, 'Shanto', 1974, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,c3,a6,Bxc6+,bxc6,d4,exd4,cxd4,Bb6,h3,Bd7,Nc3,Ne7,Bg5,O-O,Qd2,f6,Be3,Ng6,Kh2,Re8,g3,Ba5,e5,dxe5,dxe5,Nxe5,Nxe5,Rxe5,Bd4,Re6,Rfd1,Rd6,Qe3,Qc8,g4,Rb8,Rd2,Bb6,Ne2,c5,Bc3,c4,Qf4,Bc5', 'Qxc4+,Be6,Qxc5,Rxd2,Bxd2', 'https://lichess.org/training/tEXOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tExUJ', 'Blitz', 'benstace4', 1890, 'FM realandante', 2241, 'd4,d5,Bf4,Nf6,e3,c5,c3,Qb6,Qb3,Nc6,Qxb6,axb6,Nd2,c4,Ngf3,b5,g3,b4,Bg2,h6,O-O,Nd7,e4,bxc3,bxc3,e6,exd5,exd5,Rfe1+,Be7,Nf1,O-O,Ne3,Nf6,Nd2,Be6,Reb1,Ra7,Bc7,Rfa8,Rb2,Ba3,Rc2,b5,Bb6,Ra6,Bc7,b4,cxb4,Nxb4,Rcc1,Nd3,Rd1,Rc8,Be5,Bb2,Rab1,Rxa2,Bxf6,gxf6,Bxd5,Bxd5,Nxd5,Kg7,Ne4,Rc6,Rxd3,cxd3,Nb4,Rca6,Nxa2,Rxa2,Rd1,Ra1,Rxa1,Bxa1,Kf1,Bxd4,Ke1,f5,Nd6,Bc3+,Kd1,Kf6,Nb5,Bb4,f4,Ke6,Nd4+,Kf6,Nb5,Kg6,Nd4,Bc3,Nb5,Ba5,Nd4,Bb6,Nb3,Be3,Nd2,Kh5,h3,Kg6,Ke1,Kf6,Nc4,Bc1,Kd1,d2,Nxd2,Bb2,Ke2,Kg6,Kf3,Bc1,Nc4,h5,Ne5+,Kf6,Nd7+,Ke6,Nc5+,Kd5,Nd3,Bd2,Ke2,Bc3,Kf3,Bf6,g4,fxg4+,hxg4,hxg4+,Kxg4,Ke4,Nf2+,Ke3,Kf5,Bb2', 'Nd1+,Kd2,Nxb2', 'https://lichess.org/training/tExUJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('teZjM', 'Rapid', 'GregMillsUSA1', 1836, 'KingSlayer09', 1854, 'e4,c6,Qf3,d5,e5,e6,d4,Ne7,h3,Ng6,g3,Bb4+,c3,Be7,h4,O-O,h5,Nh8,g4,c5,Ne2,Nc6,Be3,Qb6,b3,cxd4,Nxd4,Nxd4,Bxd4,Bc5,Qd3,Bxd4,cxd4,Qb4+,Nd2,Bd7,Qe3,Rac8,Be2,Rc2,a3,Qe7,Bd3,Rc3,Bxh7+,Kxh7,Qxc3,Rc8,Qd3+,Kg8,h6,g6,Qh3,Kh7,Nf3,f6,Nh4,fxe5,dxe5,Qg5,Nf3', 'Rc1+,Rxc1,Qxc1+,Ke2,Bb5#', 'https://lichess.org/training/teZjM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TeZmv', 'Rapid', 'Acerb8', 1623, 'davidchess123', 1624, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Nc6,a4,Qb6,d4,Nh6,Bxh6,gxh6,Nc3,a6,dxc5,Bxc5,a5,Qa7,Bd3,Bxf2+,Kf1,Bc5,g3,Nd4,Kg2,Nxf3,Qxf3,Bd7,Qf6,O-O,Qxh6,f5,exf6,Rf7,Ne2,Be3,Nf4,Qd4,Bxh7+', 'Rxh7,Qg6+,Kh8', 'https://lichess.org/training/TeZmv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tf0Y4', 'Rapid', 'VV0LF', 1855, 'chrisdon', 1868, 'Nf3,e6,e4,d5,exd5,Qxd5,Nc3,Qd8,d3,Nf6,Be3,Be7,Be2,c5,d4,cxd4,Bxd4,Bb4,O-O,Be7,a3,Nc6,Be3,Qxd1,Raxd1,O-O,Nb5,Nd5,c4,Nxe3,fxe3,Rd8,Nc7,Rxd1,Rxd1,Rb8,Nb5,a6,Nbd4,Nxd4,exd4,b6,Ne5,Bb7,b4,Rd8,c5,bxc5,dxc5,Bd5,Bxa6,Ra8,Bb5,Rxa3,Nc6,Bf6,Na5,Bd8,c6,Bxa5', 'bxa5,Rxa5,c7', 'https://lichess.org/training/tf0Y4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TF1yH', 'Rapid', 'paulobrizolachess', 1920, 'ToufiqRahman', 1954, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Nc3,a6,a4,O-O,O-O,h6,Re1,Ng4,Re2,Nd4,Nxd4,Bxd4,h3,Nf6,Be3,c5,Qd2,d6,Ra3,Rb8,Rb3,Bd7,Nd5,Nxd5,Bxd5,b5,axb5,axb5,c3,Bxe3,Qxe3,Kh7,Qg3,f5,exf5,Bxf5,Re3,Bg6,Be4,Bxe4,Rxe4,Qf6,Rg4,Rf7,Rg6', 'Qxg6,Qxg6+,Kxg6', 'https://lichess.org/training/TF1yH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tf2mW', 'Blitz', 'IM readycash', 2534, 'Hendry_KBPL', 2263, 'e4,e5,Nf3,Nf6,d4,Nxe4,dxe5,d5,Bd3,Nc5,O-O,Be7,Nc3,c6,Ne2,Bg4,Ng3,Nbd7,Re1,O-O,h3,Bxf3,Qxf3,Nxd3,Qxd3,Re8,Bf4,Nf8,Nf5,Ng6,Qg3,Bh4,Qg4,Nxf4', 'Qxg7#', 'https://lichess.org/training/Tf2mW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tf340', 'Classical', 'NivMizz', 1684, 'Blueshadow440', 1574, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,Re1,O-O,c3,Ba7,d4,exd4,cxd4,b5,Bb3,Re8,Nc3,b4,Nd5,Nxe4,Bf4,d6,Qc2,Bf5,Qxc6,g5,Bxg5,Nxg5,Rxe8+,Qxe8,Qxe8+,Rxe8,Nxg5,Bxd4,Nf6+,Bxf6,Bxf7+,Kf8,Bxe8,Kxe8,Nf3,Bxb2,Re1+,Kd7,h3,h5,Kh2,Bc3,Re3,c5,Kg3,d5,Kh4,c4,Kxh5,Kd6,g4,b3,axb3,cxb3,Rxc3,b2,Nd2,b1=Q,Nxb1,Bxb1,g5,d4,Rb3,Bc2,Rb6+,Ke5,Rxa6,d3,Ra8,d2,Re8+,Kf4,Rf8+,Ke4,Rd8,d1=Q+', 'Rxd1,Bxd1+,Kh6,Bb3,g6', 'https://lichess.org/training/tf340');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TF4Nx', 'Rapid', 'Ccarriles23', 1737, 'Porfis', 1727, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,Re1,Bd7,Bf1,Be7,d4,exd4,Nxd4,Nxd4,Qxd4,O-O,b3,Bc6,Bb2,Nh5,Qe3,Nf6,Nc3,Re8,Nd5,Nxd5,exd5,Bxd5,Qg3,Bf6', 'Rxe8+,Qxe8,Bxf6', 'https://lichess.org/training/TF4Nx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TF55Q', 'Rapid', 'konne', 1775, 'mross12', 1640, 'Nf3,d5,d4,Nf6,g3,Bg4,Bg2,e6,O-O,c5,Nbd2,Nc6,c4,cxd4,cxd5,Nxd5,Nb3,Be7,Nfxd4,Nxd4,Nxd4,Bf6,Qa4+,Qd7,Qxd7+,Kxd7,e3,Rac8,h3,Bh5,g4,Bg6,Nb5,a6,Na3,h5,e4,Nb4,Rd1+,Ke8,g5,Be5,f4,Bb8,Be3,f6,e5,fxe5,Bxb7,Rd8,Rxd8+,Kxd8,Rd1+,Kc7,Bf3,Rd8', 'Bb6+,Kxb6,Rxd8', 'https://lichess.org/training/TF55Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TF8RX', 'Rapid', 'ManueldeReyes', 1830, 'Bruno27', 1801, 'e4,c5,Nf3,a6,d4,cxd4,Qxd4,Nc6,Qe3,e5,Nc3,Nf6,Nd5,Nxd5,exd5,Qa5+,Bd2,Qxd5,c4,Qe6,Bc3,Bb4,Bxb4,Nxb4,Bd3,O-O,O-O-O,d6,Qe4,g6,b3,f5,Qh4,e4,Ng5,Qe7,Rhe1,Rf7,g3,Qf6,Rd2,exd3', 'Re8+,Kg7,Qxh7#', 'https://lichess.org/training/TF8RX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tf9li', 'Blitz', 'mick-jagger', 1692, 'Jimapo', 1721, 'd4,Nf6,Nc3,g6,e3,Bg7,Bd3,d6,Nf3,O-O,O-O,Nbd7,e4,c5,dxc5,Nxc5,Be3,Qb6,Bxc5,dxc5,b3,Bg4,h3,Bxf3,Qxf3,Qb4,Bc4,Qxc3,Qxc3,Nxe4,Bxf7+,Rxf7,Qc4,Nd2,Qb5,Bxa1,Qxb7,Raf8,Rxa1,Rxf2,Qd5+,R2f7,Qxd2,a6,Qd3,Kg7,Qc3+,Kg8,Qxc5,Kg7,Qd4+,Rf6,Qd5,R8f7,Qd4,Kg8,Qc3,Kg7,Qd3,Kg8,Rf1,Rxf1+,Qxf1,Rxf1+,Kxf1,Kf7,Ke2,Ke6,Kd3,Kd5,c4+,Ke5,Ke3,g5,g4,h6,a3,a5,b4,axb4,axb4,Kd6,b5,Kc5,Ke4,e6,b6,Kxb6,Ke5,Kc5,Kxe6,Kxc4,Kf6,Kd4,Kg6,Ke4,Kxh6,Kf4,h4', 'gxh4,g5,h3,g6,h2,g7,h1=Q+', 'https://lichess.org/training/tf9li');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tfa81', 'Blitz', 'ATJAZZ', 1524, 'jpm37', 1588, 'd4,Nf6,c4,e6,Nf3,Bb4+,Nc3,O-O,e3,d5,Bd3,Nc6,O-O,b6,a3,Bxc3,bxc3,Ba6,Bb1,Bxc4,Bd3,Bxd3,Qxd3,Na5,Ne5,c5,c4,cxd4,exd4,dxc4,Nxc4,Nxc4,Qxc4,Rc8,Qd3,e5,Bg5,Qxd4,Qxd4,exd4,Bxf6,gxf6,Rad1,Rcd8,Rfe1,Rd7,Re4,Rfd8,Rf4,Kg7,Rd3,Rd5,h4,h5,Re4,f5,Re7,R8d7,Re8,Kf6,f4,Re7,Rh8,Kg6', 'Rg3+,Kf6,Rh6#', 'https://lichess.org/training/tfa81');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tfdsZ', 'Rapid', 'Babola73', 2029, 'Kalitendele', 1994, 'd4,e5,Nf3,exd4,Qxd4,Nf6,Bg5,Nc6,Qc3', 'Bb4,a3,Bxc3+', 'https://lichess.org/training/tfdsZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TFe40', 'Blitz', 'HDubz', 1645, 'junsdaniwes', 1665, 'd4,f5,c4,Nf6,Nc3,e6,Bf4,Bb4,e3,O-O,Bd3,b6,Ne2,Bb7,O-O,Bxc3,Nxc3,Nc6,a3,Ne7,Qc2,d5,cxd5,Nfxd5,Nxd5,Nxd5,Be5,Rc8,e4,fxe4,Bxe4,c5,Bxh7+,Kh8,Bxg7+,Kxg7,Qg6+,Kh8,Qh6,Qf6', 'Bg6+,Kg8,Qh7#', 'https://lichess.org/training/TFe40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfePU', 'Classical', 'Antiyou', 1828, 'cartem', 1951, 'e4,d6,d4,Nf6,Nc3,c6,Bc4,g6,Nge2,Bg7,O-O,b5,Bb3,b4,Na4,Nxe4,Re1,O-O,c3,bxc3,bxc3,Nf6,Ng3,Nbd7,Bg5,h6,Bf4,Nh5,Nxh5,gxh5,Qxh5,Nf6,Qh4,Bf5,Bxh6,Bg6,Bxg7,Kxg7,Re3,Rh8,Qf4,Qc7,Rae1,Rae8,Nc5,Nh5,Qg5,dxc5,Rxe7,Rxe7', 'Rxe7,Qf4,Rxf7+,Qxf7,Bxf7', 'https://lichess.org/training/TfePU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfFZm', 'Rapid', 'Elio12345', 2102, 'karimovteymur', 2172, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,Nc6,c3,e5,Bxc6,bxc6,Nxe5,c5,Nc6,Qd6,d5,Ba6,Re1,Rae8,Bg5,f6,Be3,Bc4,Nxa7,Re5,Qa4,Bxd5,Bf4,Qb6,Bxe5,fxe5,Nb5,c6,Nd6,Qxb2,Ne4,Bxe4,Qxe4,Qxf2+,Kh1,Rd8,Qxc6,Kh8,Rf1,Qd2,Qxc5,h5,a4,Kh7,a5,e4,a6,e3,Qe7,Kh6,Rfe1,Bxc3,Qxe3+', 'Qxe3,Rxe3,Bxa1', 'https://lichess.org/training/TfFZm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tFGtj', 'Rapid', 'Silgab', 1678, 'Alper_Karahan', 1680, 'd4,c6,e4,d5,Nc3,Nf6,e5,Ne4,Nxe4,dxe4,f3,Bf5,fxe4,Bxe4,c3,e6,Nf3,g6,Bd3,Bf5,Bxf5,gxf5,O-O,Nd7,Bg5,Qb6,Rb1,h6,Bh4,Bg7,Nd2,Nxe5,Qh5,Ng4,Rf3,Qa6,a3,Qe2,Nb3,Qc2,Re1,Qxb3,h3,Nf6,Bxf6,Bxf6,Rfe3,f4', 'Rxe6+,Kf8,Rxf6', 'https://lichess.org/training/tFGtj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TFgwI', 'Blitz', 'WIM ajam73', 2065, 'Omega500895', 2050, 'c4,Nf6,Nc3,d6,d4,g6,e4,Bg7,Be2,O-O,Be3,Nbd7,g4,e5,d5,Nc5,f3,a6,h4,Nfd7,h5,Re8,Nh3,Rb8,Qd2,b5,cxb5,axb5,Bxb5,Ba6,Bxa6,Nxa6,Bg5,f6,Bh6,Qe7,hxg6,hxg6,Bxg7,Qxg7,Nf2,Kf7,O-O-O,Rh8,g5,Rxh1,Rxh1,Rh8,Rxh8,Qxh8,Ng4,Qh1+,Kc2,Qxf3,Nh6+,Kg7,gxf6+,Nxf6,Qh2,Nc5,a3,Ncxe4,Nxe4,Qxe4+,Kb3,Qxd5+,Ka4,Qc6+,Ka5,Qb6+,Ka4,c5,b4,cxb4,axb4,Qa6+,Kb3,Qd3+,Ka4,Qd5,Qg3,Qd1+,Kb5,Qh5,Nf5+,Qxf5,Qc3,e4+,Ka4,Qe6,b5,d5,Qc7+,Qf7,b6,Ne8', 'Qxf7+,Kxf7,b7,e3,b8=Q', 'https://lichess.org/training/TFgwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tFHQ2', 'Blitz', 'luistop', 2271, 'shrekbsm', 2240, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,c6,e3,Nbd7,Bd3,Bd6,O-O,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bc2,Bd7,Qe2,h6,b3,Rc8,Bb2,Re8,Rad1,a6,Ne5,Qc7,f4,Rcd8,g3,b5,Ng4,Nxg4,Qxg4,e5,f5,exd4,Bxd4,Be5,Be3,Kh8,Qh5,Bc8,Bxh6,gxh6,Qxh6+,Kg8,f6,Bxf6,Qxf6,Be6,Qh6,Rxd1,Rxd1,Qe5,Rf1,bxc4,Bh7+,Kh8,Bg6+,Kg8,Qh7+,Kf8', 'Rxf7+,Bxf7,Qxf7#', 'https://lichess.org/training/tFHQ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfHZ7', 'Classical', 'rudi-kusaman', 1823, 'Krakenstone', 1764, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb6,e5,Qe7,O-O,Ng4,h3,Nh6,Bxh6,gxh6,d5,Nxe5,Re1,d6,Nfd2,Bf5,Kh1,O-O-O,f4,Bf2,Re2,Qh4,Rxf2,Qxf2,fxe5,Bxb1,Rxb1,dxe5,Nf3,f6,b3,Rhg8,Qf1,Qxa2,Ra1,Qc2,Rxa7,Kb8,Ra1,Rg7,b4,Rdg8,g4,h5,d6,hxg4,dxc7+,Kxc7,Bxg8,gxf3', 'Rc1,Rg2,Rxc2+', 'https://lichess.org/training/TfHZ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TFiA6', 'Blitz', 'rucco', 1636, 'BigBoss_86', 1631, 'e4,e5,Bc4,Bc5,d3,Qf6,Qf3,h6,Be3,Bxe3,Qxe3,Nc6,Nf3,d6,Nc3,Nge7,Bd5,Bg4,Bxc6+,bxc6,Nd2,d5,exd5,cxd5,d4', 'exd4,Nxd5,dxe3,Nxf6+,gxf6', 'https://lichess.org/training/TFiA6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tFIHY', 'Rapid', 'DoItAgainTitus', 1839, 'KomodoB', 1715, 'e4,e6,Nf3,a6,d4,b5,c3,Bb7,Bd3,c5,O-O,Nf6,e5,Nd5,dxc5,Bxc5,a4,bxa4,Qxa4,Nb6,Qa5,Be7,Nbd2,Nc6,Qa2,O-O,Nc4,d5,Na5,Qc7,Nd4,Nxe5,Be2,Bd6,Bf4,Ng6', 'Bxd6,Qxd6,Nxb7', 'https://lichess.org/training/tFIHY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tfIz5', 'Rapid', 'mansur59', 2103, 'FM Nemausus', 2220, 'e4,g6,d4,Bg7,Nc3,d6,f4,e6,Nf3,Ne7,Be3,a6,a4,b6,Be2,Bb7,O-O,Nd7,Qd2,h6,Kh1,f5,e5,d5,Bd3,Kf7,Qf2,Rc8,Rg1,c5,g3,Nc6,Na2,cxd4,Nxd4,Nxd4,Bxd4,Nc5,Bxc5,d4+,Rg2,bxc5,Kg1,Qb6,b3,a5,g4,Bxg2,Qxg2,Qc6,Qg3,Qd5,Kf2,c4,bxc4,Rxc4,Bxc4,Qxc4,gxf5,Qxc2+,Kg1,gxf5', 'Rc1,Qe4,Rc7+', 'https://lichess.org/training/tfIz5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfJok', 'Blitz', 'rajna', 1664, 'artem1973', 2147, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,c5,Ne2,Nc6,c3,cxd4,cxd4,Bb4+,Nbc3,O-O,O-O,Bd7,a3,Be7,b4,Rc8,Be3,Bd6,Ng3,b6,Nce4,Bxg3,hxg3,Nxe4,Bxe4,Ne7,Qh5,g6,Qf3,Bc6,Bxc6,Rxc6,Bh6,Re8,Qf6,Nf5,Qxd8,Rxd8,Bg5,Rdc8,Bf6,h6,Rfd1,Rd6,Be5,Rd5,Rd3,Kh7,g4,Ne7,Rh3,g5,f4,Kg6,Rf1,f5,fxg5,hxg5,gxf5+,Nxf5,Rd3,Rc4,g4,Nxd4,Rf6+,Kh7,Rh3+,Kg8', 'Rg6+,Kf7,Rg7+,Kf8,Rh8#', 'https://lichess.org/training/TfJok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfjPv', 'Rapid', 'riv9', 1752, 'andrei1111', 1715, 'Nf3,d5,d4,e6,Bg5,f6,Bh4,g5,Bg3,Nc6,e3,a6,h4,gxh4,Nxh4,Bg7,Qh5+,Kf8,Bd3,f5,c3,Nf6,Qe2,Kf7,Nd2,Bd7,Nhf3,Ne4,Ne5+,Nxe5,Bxe5,Bxe5,dxe5,Kg8,O-O-O,Be8,Rdg1,Bg6,g4,Nxd2,gxf5,exf5,Qxd2,Kf7,f4,c5,Qc2,Ke6,c4,b5,cxd5+,Qxd5,Kb1,c4,Bf1,Rad8,Bh3,Qd2,Rd1,Qxe3,Bxf5+', 'Bxf5,Rd6+,Rxd6,Rh6+,Bg6,Rxg6+,hxg6', 'https://lichess.org/training/TfjPv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfjS6', 'Blitz', 'FM Oliver_Cromvel', 2400, 'FM Stormeman100100', 2468, 'c4,Nf6,Nc3,e6,e4,d5,e5,d4,exf6,dxc3,bxc3,Qxf6,d4,h6,Nf3,b6,Bd3,Bb7,Qe2,Nd7,Be4,Bxe4,Qxe4,Rd8,a4,Bd6,a5,O-O,O-O,c5,axb6,axb6,Be3,Qf5,Qxf5,exf5,d5,f4,Bd2,g5,h3,Rfe8,Ra7,Re2,Re1,Rxe1+,Bxe1,Nf6,Nd2,Re8,Kf1,Be5,Nf3,Bd6,Bd2,Ne4,Rd7,Be5,Nxe5,Nxd2+,Ke2,Nxc4,Rb7,Nxe5,Kd2,Nc4+,Kd3,Nb2+,Kc2,Nc4,Kb3,Ne5,Rxb6,Nd3,Kc4,Nxf2,Kxc5,Ne4+,Kd4,Nd2,Kd3,f3,gxf3,Nxf3,c4,Ne5+,Kd4,Nd7,Rb7,Re7', 'd6,Re1,Rxd7', 'https://lichess.org/training/TfjS6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tfKXs', 'Rapid', 'paololucca', 1806, 'laleva1981', 1802, 'd4,d6,c4,c6,Nc3,Nf6,e4,e6,Nf3,Be7,Be2,O-O,O-O,e5,dxe5,dxe5,Nxe5,Na6,Kh1,Nc5,f3,Be6,b4,Na6,a3,Qc7,Bf4,Bd6,b5,cxb5', 'Nxb5,Bxe5,Nxc7', 'https://lichess.org/training/tfKXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TflAf', 'Rapid', 'chess960lab', 2370, 'Kaerdo2', 2266, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,c5,c3,Bd6,Bb5+,Nc6,Bxc6+,bxc6,Bxd6,Qxd6,Qa4,O-O,O-O,Bd7,Qa3,Ne4,Nbd2,cxd4,Nxe4,Qxa3,bxa3,dxe4,Nxd4,c5,Nb3,Bb5,Rfd1,Rfc8,Na5,Bd3,c4,Rab8,Rd2,Rb6,Rc1,f5,g3,Kf7,h4,Kf6,Kg2,Ra6,Nb7,Rc7,Rb2,Rb6,Rxb6,axb6,Nd6,Ra7,Rc3,Ke5,Nc8,Rb7,f4+,Kf6,Nd6,Rd7,Nb5,Be2,Kf2,Bf3,Rc2,Rd1,Rb2,Rh1,Rb3,Rh2+,Ke1,Rxa2,Nd6,Rg2,Rxb6,Rxg3,Ne8+,Ke7,Nc7,Rg1+,Kf2,Ra1,Nxe6,Ra2+,Kg1,Rxa3,Nxg7,Rxe3', 'Nxf5+,Kd7,Nxe3', 'https://lichess.org/training/TflAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TFLfA', 'Rapid', 'kosmiko', 715, 'MarkedGerbil', 841, 'e4,e6,f4,c6,d4,a6,Nc3,g6,h4,Ne7,g4,Bg7,g5,Qc7,e5,Ra7,a4,Nf5,Bd3,b5,a5,Qxa5,Rxa5,Nxd4,Nxb5,cxb5,Rxb5,axb5,Bxb5,Ba6,Ba4,Bb7,Qxd4,Bxh1,Qxd7+,Kf8,Qc8+,Ke7,Qxb8,Rxa4,Qb5,Ra1,Qb7+,Kf8,Qb8+,Ke7,Qb7+,Kd8,Qd5+,Ke7,Qb7+,Kf8,Qb8+,Ke7,Qb7+,Kd8,Qc6,Rxc1+,Kd2,Rxc2+,Kxc2,Bxe5,Qb6+,Ke7,Qb7+,Kf8,Qb8+,Kg7,Qxe5+,Kg8,Qb8+,Kg7,Qe5+,Kf8,Qb8+,Ke7,Qb7+,Kd6,Qb8+,Kc5,Qc8+,Kb4,Qb8+,Ka4,Qa8+,Kb4,Qb8+,Kc4,Qc8+,Kd4,Qd8+,Ke3,Qb6+,Kxf4,Qb4+,Kg3,Qb3+,Kxh4,Qb4+,Kxg5,Qb5+,Kf6,Qb4,Rc8+,Kb3,Rc1,Qd4+,Ke7,Qb6,Kd7,Qa7+,Kc6,Qa4+,Kd5,Qa5+,Ke4,Qa4+,Kd3,Qf4,Rxg1', 'Qc4+,Ke3,Qc5+', 'https://lichess.org/training/TFLfA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tFlNm', 'Rapid', 'CitronSauvage', 1894, 'RussellHudgins', 1704, 'd4,d5,c4,Nf6,Nc3,Bf5,Qb3,dxc4,Qb5+,c6,Qxf5,e6,Qc2,Qxd4,Be3,Qd8,Nf3,Nbd7,O-O-O,Be7,Ne5,O-O,Bg5,Nd5,Nxd7', 'Bxg5+,e3,Qxd7', 'https://lichess.org/training/tFlNm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tFm5B', 'Rapid', 'ferbow', 1733, 'Yuri4e20', 1814, 'd4,d5,Bf4,c5,e3,Nf6,Nf3,Nc6,Nbd2,Bf5,c3,Qb6,Qb3,Qxb3,axb3,e6,Be2,Ne4,O-O,f6,Rfd1,g5,Bg3,h5,h4,Nxg3,fxg3,Bd6,Nf1,g4,Ne1,e5,Bd3,e4,Bb5,Bd7,Nc2,cxd4,Nxd4,Nxd4,Bxd7+,Kxd7,Rxd4,Rhd8,Rxd5,Ke6,Rad1,f5,R1d4,Rac8,c4,b6,b4,Rxc4', 'Rxd6+,Rxd6,Rxc4', 'https://lichess.org/training/tFm5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfnTW', 'Rapid', 'Atviras', 1759, 'jacek359', 1751, 'c4,Nf6,g3,g6,Bg2,Bg7,e3,O-O,Nc3,c6,d4,d6,Nge2,Nfd7,Nf4,Nb6,c5,N6d7,b4,Na6,Rb1,Rb8,a3,Nc7,Qc2,Nf6,O-O,dxc5,bxc5,e6,Nd3,Nfd5,Nxd5,Nxd5,Bxd5,Qxd5,Nf4,Qd8,Bd2,Re8,Rfe1,e5,Nd3,exd4,exd4,Rxe1+,Rxe1,Qxd4,Bc3,Qd8,Bxg7,Kxg7,Qc3+,Kg8,Qe5,Be6,Nf4,Bg4,h3,Bf3,Qe3,Bd5,Nxd5,Qxd5,Qc3,Rd8,Kh2,b6,cxb6,axb6,Kg1,b5,Qa5,Qd2', 'Re8+,Rxe8,Qxd2', 'https://lichess.org/training/TfnTW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tfNUB', 'Rapid', 'harshaurora', 1729, 'Gapperdegap', 1727, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,g6,Nc3,Bg7,Bc4,Nf6,Nd5,O-O,Bd2,e6,Nxf6+,Bxf6,Bc3,Ne5,Bb3,Bg7,O-O-O,a5,Nf3,a4,Bxe5,axb3,Qxb3', 'Bxe5,Nxe5,Qg5+,Kb1,Qxe5', 'https://lichess.org/training/tfNUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TFOHD', 'Rapid', 'benjack11', 2023, 'Francisco984', 2063, 'f4,d5,Nf3,c6,d4,Bf5,e3,Nf6,c4,e6,c5,Nbd7,Bd3,Bxd3,Qxd3,Ne4,Nbd2,Ndf6,O-O,Be7,Ng5,Nxd2,Bxd2,h6,Nh3,Ne4,f5,Nxd2,Qxd2,e5,dxe5,Bxc5,f6,g6,Rac1,Qb6,Rf3,g5,Nf2,h5,h3,Rg8,Re1,g4,hxg4,hxg4,Rg3', 'Bb4,Qe2,Bxe1', 'https://lichess.org/training/TFOHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfOR4', 'Blitz', 'JcaKemp', 1740, 'jmmandrade', 1734, 'd4,g6,Bf4,Bg7,Nf3,e6,e3,Nf6,c4,Nh5,Bg3,Nxg3,hxg3,Nc6,Nbd2,e5,Nxe5,Nxe5,dxe5,Bxe5,Bd3,Bxb2,Rb1,Bc3,Qc2,Bg7,f3,Qg5,Kf2,d6,Ne4,Qe7,c5,Be5,cxd6,cxd6,Bb5+,Kf8,Bc4,Bd7,f4,Bg7,Ng5,Rc8,Qd3,Bf5,Qd5,Rxc4,Qxc4,Bxb1,Rxb1,h6,Nf3,Kg8,Qc8+,Kh7,Ng5+,hxg5', 'Rh1+,Bh6,Rxh6+,Kxh6,Qxh8#', 'https://lichess.org/training/TfOR4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfQHH', 'Blitz', 'Ridics', 2138, 'Misu604', 2028, 'c4,Nf6,b3,g6,Bb2,Bg7,Nf3,O-O,e3,d6,d4,b6,Bd3,Bb7,O-O,Nbd7,Nbd2,c5,Re1,cxd4,exd4,d5,Ba3,Re8,Re5,Rc8,Re2,a6,Qc2,e6,Rae1,Qc7,Qc3,dxc4,bxc4,Nd5,Qb3,Nf4,Re3,Nxd3,Qxd3,Red8,d5,exd5,cxd5,Nc5,d6,Qc6,Bxc5,bxc5,d7,Rxd7,Re8+,Rxe8,Rxe8+,Bf8,Qc3,Re7', 'Rxf8+,Kxf8,Qh8#', 'https://lichess.org/training/TfQHH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TFQig', 'Rapid', 'receipt', 1629, 'Nagyc42', 2027, 'Nf3,Nf6,d4,d6,c4,c5,dxc5,dxc5,Qxd8+,Kxd8,b3,Nc6,Bb2,e6,e3,Bd6,Nbd2,Ke7,Be2,Rd8,O-O,h6,e4,Bf4,Rfd1,b6,g3,Bxd2,Nxd2,Nd4,Bxd4,Rxd4,e5,Nd7,f4,Bb7,Nf3,Bxf3,Bxf3,Rxd1+,Rxd1,Rd8,Bc6,f6,Bxd7,Rxd7,Rxd7+,Kxd7,exf6,gxf6,Kf2,Kd6,Ke3,a6,g4,b5,Ke4,Ke7,h4,Kf7,h5,Kg7,f5,Kf7,cxb5,axb5,fxe6+,Kxe6,Kf4,Kd5,Kf5', 'c4,Kxf6,c3', 'https://lichess.org/training/TFQig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfRux', 'Rapid', 'Snowballl', 2150, 'FM philipp77', 2383, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,dxe5,dxe5,Bg4,Be2,e6,c4,Bb4+,Bd2,Bxd2+,Qxd2,Nb6,Qxd8+,Kxd8,Nc3,Nc6,O-O-O+,Ke7,b3,Nd7,Rhe1,a6,h3,Bh5,g4,Bg6,Bd3,Rad8,Bxg6,hxg6,h4,Nc5,Rxd8,Rxd8,Rd1,Nd3+,Kc2,Nxf2,Rg1,Nd3,Nd5+,exd5,Kxd3,Nb4+,Kd4,b6,a3,c5+,Kc3,Nc6,Rd1,d4+,Kd3,Rh8,g5,Ke6,Ke4,Re8,Re1,Re7,Re2,Rd7,Rd2,Ne7,Ng1,Nf5,Ne2,Rb7,Nf4+,Kd7,Nd5,Nxh4,Rh2,Nf5,Rh8,Ke6,Re8+,Ne7,Rd8,Nxd5,cxd5+,Ke7,Rh8,b5,d6+,Kd7,Kd5,d3,Rh3,d2', 'Rd3,Rb6,Rxd2', 'https://lichess.org/training/TfRux');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tfTtA', 'Blitz', 'Harshanand1234', 1681, 'OmkChaudhari', 1572, 'e4,c5,Nf3,d6,c3,Nf6,d4,cxd4,cxd4,Nxe4,Qc2,Nf6,Be3,e6,Nc3,Nc6,O-O-O,Be7,Bb5,a6,Bd3,O-O,d5,exd5,Nxd5,Nxd5,Bxh7+,Kh8,Rxd5,g6,Rh5,Bg4,Bxg6+,Bxh5,Bxh5,Rc8,Kb1,Nb4,Qb3,a5,Bxf7,Qc7,Bd4+,Kh7,Ng5+,Bxg5', 'Qh3+,Bh6,Qf5#', 'https://lichess.org/training/tfTtA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfTwC', 'Blitz', 'FM legato', 2499, 'Jero_el_siniestro', 2486, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Nc3,Bg4,Be3,Nf6,h3,Bh5,O-O,O-O,g4,Bg6,e5,dxe5,dxe5,Ne4,Bxb6,axb6,Nxe4,Bxe4,Nd2,Qd4,Qe2,Nxe5,Nxe4,Qxc4,Qxc4,Nxc4,Rac1,Nxb2,Rxc7,Rxa2,Rxb7,Nc4,Rc1,Ra4,Nc3,Ra6,Nd5,Nd2,Rcc7,Ra3,Ne7+,Kh8,Nf5,g6,Rxf7,Rxf7', 'Rb8+,Rf8,Rxf8#', 'https://lichess.org/training/TfTwC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tfu0R', 'Blitz', 'NM Re_dei_matti', 2420, 'IM testviking', 2591, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Qf3,g6,Bg5,Bg7,h3,Qb6,O-O-O,Nc6,Nb3,Bd7,Kb1,Rc8,Qg3,Nb4,Bd3,Nh5,Qe3,Qxe3,Bxe3,O-O,Be2,Nf6,a3,Nc6,f4,b5,Bf3,Rfe8,Nd4,Na5,e5,dxe5,fxe5,Nh5,Bxh5,gxh5,e6,fxe6,g4,hxg4,hxg4,Nc4,Bc1,e5,Nf5,Be6,Rh3,Nd6,Nxd6,exd6,Rxd6,Bxg4,Rg3,h5,Rg6,Kf7,Rxa6,e4,Be3,Bxc3,bxc3,Rxc3,Ra7+,Re7', 'Rxe7+,Kxe7,Bg5+,Ke6,Rxc3', 'https://lichess.org/training/Tfu0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tfVpk', 'Blitz', 'cuatralbo', 1834, 'rayan121', 1902, 'd4,d5,Nf3,e6,e3,Nf6,Bd3,Bd6,O-O,Nbd7,Nbd2,e5,e4,exd4,exd5,O-O,Nxd4,Nxd5,Qh5,N7f6,Qh4,h6,N2f3,c6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/tfVpk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TFVZm', 'Classical', 'RadivojeDjedovic', 2008, 'Tchingizid', 1999, 'e4,c5,Nf3,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,d4,e6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,O-O-O,Be3,f6,dxc5,Nxc5,Qxd5,Rxd5,Bxc5,Bxc5,Rad1,Rhd8,Rxd5,Rxd5,b3,e5,Ne1,e4,g3,f5,Ng2,Rd2,Ne3,g6,a4,Bxe3,fxe3,Rxc2,g4,fxg4,Rf8+,Kc7,Rf7+,Kb6,Rxh7,Re2,Rg7,Rxe3,Rxg6+,Ka5,Rxg4,Rxb3,Rxe4,Rb4', 'Rxb4,Kxb4,h4,Kxa4,h5', 'https://lichess.org/training/TFVZm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tfw0j', 'Rapid', 'giuzen51', 1723, 'ELALFYz', 1668, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qa4,Nf6,Bd3,Be7,O-O,O-O,h3,d6,c4,Bd7,Qd1,Bc6,Qe2,Nd7,f4,Bf6,Nc3,Qa5,Nd5,Bd4+,Kh1,Rfe8,Bd2,Qd8,Be3,Bxe3,Qxe3,Nf6,Nxf6+,Qxf6,g4,Qxb2,g5,Qc3,Rac1,Bxe4+', 'Qxe4,Rxe4,Rxc3', 'https://lichess.org/training/tfw0j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tFWs6', 'Blitz', 'RamireZ1', 1701, 'Kaizouku', 1646, 'e4,e5,d3,Bc5,c3,Nf6,b4,Bb6,h3,d6,Nf3,c6,Be2,Nbd7,Bg5,h6,Bh4,g5,Bg3,Nh5,Bh2,Nf4,Bxf4,exf4,d4,Nf6,Qc2,O-O,Nbd2,Re8,O-O,Qe7,Bd3,Bd7,Rfe1,Qd8,e5,dxe5,dxe5,Nd5,Be4,Be6,Bxd5,Bxd5,c4,Be6,Qc3,a5,a3,axb4,axb4,Rxa1,Rxa1,Re7,Ne4,Bf5,Nd6,Qd7,c5,Bc7,Ra8+,Kh7,Ra7,Bxd6,cxd6,Re8,Nd4,Rxe5,Nxf5,Qxf5,Rxb7,Rd5,Qxc6,f3,g3,Rd1+,Kh2,Rh1+,Kxh1', 'Qxh3+,Kg1,Qg2#', 'https://lichess.org/training/tFWs6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tfwXF', 'Blitz', 'cedjea', 1660, 'hio_star', 1939, 'd4,g6,e4,Bg7,f4,d6,Nf3,Nf6,Bd3,O-O,O-O,c6,e5,Nd5,c3,Nd7,Qe2,Qb6,Kh1,c5,Nbd2,cxd4,Nc4,Qc5,cxd4,Qc7,Ne3,Nxf4,Qd2,Nxd3,Qxd3,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Bd2,Bxh2,Rac1,Qe5,Bc3,Qh5,g4,Qh6,Kg2,Bf4,Rh1,Qg5,Rxh7,Kxh7,Rh1+,Qh6,Rxh6+,Kxh6,Nf5+,gxf5', 'Qh3+,Kg5,Qh5#', 'https://lichess.org/training/tfwXF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tfzde', 'Rapid', 'Sun_Boy', 1921, 'latulipe50', 1883, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,b5,a4,b4,Na2,Nxe4,Nxb4,Bb7,Bd3,Nc5,O-O,g6,b3,Bg7,Rc1,O-O,Qd2,e5,Ne2,a5,Na2,e4,Bb5,Bc6,Bxc6,Nxc6,Bxc5,dxc5,Rcd1,Nd4,Nac1,Qb6,Qf4,Nxc2,Qxe4,Nb4,Nf4,Rfe8,Nd5,Qb7', 'Nf6+,Bxf6,Qxb7', 'https://lichess.org/training/Tfzde');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfzFK', 'Blitz', 'danieljaber', 2375, 'FM Lector118', 2545, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Qf3,Nc6,Nxc6,bxc6,e5,dxe5,Qxc6+,Bd7,Qb7,Qc8,Qxc8+,Bxc8,Be3,Bb7,h3,e6,O-O-O,Bb4,Na4,Ke7,Bc5+,Bxc5,Nxc5,Bc6,f3,a5,Bd3,h5,Ne4,h4,Nxf6,Kxf6,Be4,Rac8,Bxc6,Rxc6,Rhe1,Rhc8,Re2,Rc5,Rd3,R8c7,c3,Kf5,Kc2,f6,b3,g5,c4,Kf4,Re4+,Kg3,Rg4+,Kf2,Rd2+,Ke3', 'Re4#', 'https://lichess.org/training/TfzFK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tfzfu', 'Rapid', 'Saurav10', 1848, 'danka11', 2050, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nxc6,Qxe4+,Be3,dxc6,Bd3,Qxg2,Rf1,Qxh2,Qe2,Be6,Bf5,Bxf5', 'Bf4+,Ne7,Bxh2', 'https://lichess.org/training/tfzfu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TfzkS', 'Rapid', 'ffftd', 1636, 'Lilismash', 1678, 'e4,e5,Nf3,f5,Nc3,d6,Bc4,Nc6,O-O,f4,d4,Bg4,Nxe5,Bxd1', 'Bf7+,Ke7,Nd5#', 'https://lichess.org/training/TfzkS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tg0ep', 'Blitz', 'TioPetros', 1857, 'ironman04', 1900, 'd4,b6,e3,Bb7,Nf3,d6,Be2,Nf6,O-O,Nbd7,c4,e6,Nc3,Be7,Bd2,O-O,Rc1,a5,b3,h6,a4,Nh7,Bd3,Ng5,Bc2,Nxf3+,gxf3,Bh4,Kh1,Qf6,Rg1,Bxf3+,Rg2,Bxd1,Rxd1,e5,Nd5,Qd8,Rdg1,g6,e4,c6,Bxh6,cxd5,exd5,Re8,Bxg6,fxg6,Rxg6+,Kh8,Bg7+,Kh7,Rh6+,Kg8,Bf6+,Kf7', 'Rg7+,Kf8,Rh8#', 'https://lichess.org/training/tg0ep');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tg0kw', 'Blitz', 'Schunaizel', 2499, 'GM strelec64', 2546, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bg5,e6,Qd2,a6,O-O-O,h6,Nxc6,bxc6,Bf4,d5,f3,Bb4,Qe3,O-O,a3,Ba5,g4,Nd7,Bd6,Re8,h4,Qb6,Qxb6,Bxb6,Na4,Be3+,Kb1,a5,Bd3,Ba6,Bxa6,Rxa6,Rd3,Ba7,c4,c5,Bg3,d4,f4,Bb8,e5,f6,exf6,gxf6,g5,h5,Re1,Rc6,Rd2,Kf7,Rde2,Nf8,Kc2,Ng6,Rf1,Ne7,b3,Nf5,Rf3,Nxg3,Rxg3,Bxf4,Rf3,e5,Nb2,fxg5,hxg5,Ree6,Nd3,Kg6,Rxf4,exf4,Nxf4+,Kf5,Nxe6,Rxe6,Rg2,Rg6,b4,axb4,axb4,cxb4,Kd3,Rxg5,Rf2+,Kg6,Kxd4,h4,Rh2,Kh5,c5,Rg1,Kd5,Rc1,Rb2,h3,c6,Kg4,Rxb4+,Kg3,Rc4', 'Rxc4,Kxc4,h2,Kb5,h1=Q', 'https://lichess.org/training/Tg0kw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tG0Vm', 'Rapid', 'howisevenpossible', 1711, 'seravim1961', 1762, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,e3,b6,a3,Bb7,Bd3,c5,Ne5,dxc4,Bxc4,cxd4,Bb5+,Nbd7,exd4,O-O,O-O,Nxe5,dxe5,Nd5,Ne4,f5,Nd6,Bxd6,exd6,Qxd6,Re1,Qc5,Ba4,Rad8,Qe2,Nf4,Qe3,Nxg2,Qxc5,bxc5,Rxe6,Nf4,Re7,Ne2+,Rxe2,Be4,Bb3+,Kh8,Bg5,Rd6,Be7,Rg6+,Kf1,Re8,Rd1,Bg2+,Ke1,Bf3,Rd8,Rg1+,Kd2,Rxd8+,Bxd8,Bxe2,Kxe2,h5,Be7,Rb1,Bf7', 'Rxb2+,Kf3,Rb7', 'https://lichess.org/training/tG0Vm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TG0w8', 'Rapid', 'XXvibesXX', 1662, 'flippinfrog', 1619, 'Nf3,e6,d4,c5,dxc5,Qa5+,Nc3,Qxc5,e3,b6,Be2,Bb7,Na4,Qa5+,Nc3,Nf6,Bd2,Qc5,a3,Ng4,h3,Nxf2,Kxf2,Bd6,Na4,Qc7,Nc3,Bg3+,Kf1,O-O,Be1,f5,Bxg3,Qxg3,Qe1,Qg6,Rd1,d5,Rg1,Nd7,Bb5,Nc5,Qh4,Ne4,Nxe4,fxe4,Be2,exf3,gxf3,Qxc2,Ke1,Qxb2,Bd3,Qc3+,Ke2,Qb2+', 'Rd2,Qf6,Qxh7+', 'https://lichess.org/training/TG0w8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tg18l', 'Rapid', 'AndreyZakharov', 1690, 're10658', 1707, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be3,a6,c3,Nd7,Nbd2,c5,Nb3,cxd4,cxd4,Bb4+,Nbd2,Rc8,a3,Bxd2+,Qxd2,Rc2,Qb4,Nb6,Rc1,Rxc1+,Bxc1,Ne7,Be2,O-O,h3,Qc7,O-O,Ng6,Be3,Nc4,Bxc4,Qxc4,Qxb7,Be4,Nd2,Qd3,Nxe4,Qxe4,Qxa6', 'Nh4,f3,Qxe3+', 'https://lichess.org/training/tg18l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tg2qp', 'Rapid', 'Carlos_Domingos', 1821, 'bhgoat', 1839, 'e4,d6,Bc4,Nf6,Nc3,g6,d3,Bg7,Nf3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,h6,Nd5,Nxd5,Bxd5,Kh7,c3,c6,Bb3,e6,d4,d5,e5,f5,exf6,Rxf6,Qe2,Nd7,g4,Rf8,Qxe6,Nf6,g5', 'Re8,Qf7,Re7,Qxe7,Qxe7', 'https://lichess.org/training/Tg2qp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tg41E', 'Blitz', 'zainullah', 1845, 'steveclank', 1818, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Nc3,Nf6,Bg5,Be7,Be3,O-O,Bd3,d5,Bd2,d4,Ne2,c5,O-O,Bd6,f4,e5,f5,Bb7,Ng3,Rc8,Bg5,c4,Be2,Bc5,Kh1,h6,Bxf6,Qxf6,Bf3,Rcd8,Qe2,d3,cxd3,cxd3,Qd2,Ba6,Rac1,Qb6,Nh5,Be3,Qe1,Bxc1,Nxg7,d2,Qg3,Bxf1', 'Ne6+,Kh7,Qg7#', 'https://lichess.org/training/tg41E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tG57K', 'Blitz', 'CM Hapaku24', 2374, 'Justin_Luhrman', 2409, 'c4,Nf6,Nc3,e6,e4,c5,e5,Ng8,Nf3,d6,exd6,Bxd6,d4,cxd4,Nxd4,Nc6,Ndb5,Be7,Qxd8+,Bxd8,Nd6+,Ke7,Nde4,h6,Bf4,f5,Nd2,g5,Be3,Nf6,O-O-O,a6,Bc5+,Kf7,Nf3,Be7,Bb6,Bd7,Be2,Rhc8,Kb1,Be8,Rhe1,g4,Nd2,Bb4,Nb3,Ne5,c5,Bxc3,bxc3,Ba4,Rd6,Bxb3,axb3,Nfd7,b4,Nxb6,Rxb6,Rc7,Bf1,Kf6,f4,gxf3,gxf3,f4,Re4,Kf5,Bh3+,Kf6,Rxf4+,Kg5,Re4,Nxf3,Rexe6,h5,Rg6+,Kh4,Bg2,Rf8,Rbf6,Rxf6,Rxf6,Nxh2,Rb6,Kg3,Bxb7,h4,Bxa6,Nf3,Bb7,h3,Rg6+,Kf2,Bxf3,Kxf3,Rh6,Kg2,Kb2,h2,Kb3,Rg7,Kc4,Rg3,Kb5', 'Rh3,Rd6,h1=Q', 'https://lichess.org/training/tG57K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tg7AO', 'Rapid', 'ralph_wigum', 1881, 'Nareshsir', 1892, 'e4,e5,f4,exf4,Bc4,Qh4+,Kf1,Bc5,d4,Bb6,Nf3,Qe7,Nc3,Nc6,Nd5,Qxe4,Bxf4,Nge7,Qd2,d6,Re1,Qf5,Nxe7,Nxe7,Bg5,f6,Qe3,Qd7,Bh4,d5,Bb5,c6,Ba4,Kf7,Bb3,Nf5,Qf4,Bc7,Ne5+,Bxe5,dxe5,Nxh4', 'e6+,Qxe6,Rxe6', 'https://lichess.org/training/Tg7AO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tG86b', 'Blitz', 'cmimo', 1776, 'hknbyn', 1583, 'd4,c6,e4,d5,e5,Bf5,h4,h6,g4,Bg6,e6,fxe6,Bd3,Bxd3,Qxd3,Nf6,Qg6+,Kd7,Nf3,Qe8,Ne5+,Kc7,Bf4,Kb6,Qd3,a6,c4,Nbd7,c5+,Ka7,Qb3,Nxe5', 'Qb6+,Kb8,Bxe5+,Kc8,Qc7#', 'https://lichess.org/training/tG86b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tG8pZ', 'Rapid', 'nqclimaster', 2116, 'novichok2018rus', 1986, 'e4,e6,f4,d5,e5,c5,d3,Nc6,c3,Bd7,Nf3,a6,Na3,b5,Nc2,Qb6,Be2,Nge7,O-O,Nf5,Ne3,Nxe3,Bxe3,d4,Bf2,Be7,cxd4,Nxd4,Nxd4,cxd4,Bf3,Rc8,Rc1,O-O,a3,Rxc1,Qxc1,Rc8,Qd2,a5,b4,axb4,axb4,Rc3', 'Qxc3,dxc3,Bxb6', 'https://lichess.org/training/tG8pZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tgadj', 'Rapid', 'chessw0rker', 1761, 'Mikhail_M', 1680, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,Be7,d4,exd4,Nxd4,Nxe4,Nxc6,dxc6,Qf3,Nf6,Qxc6+,Bd7,Qf3,O-O,Nc3,Bg4,Qc6,Bd6,Bg5,h6,Bh4,Bf5,Nd5,g5,Nxf6+,Qxf6,Bg3,Qxb2,Bxd6,cxd6,Qxd6,Bxc2,Bxc2,Qxc2,Qxh6,f6,Rfc1,Qf5,Rc7,Rf7,Rxf7,Kxf7,Re1,Re8', 'Qh5+,Qg6,Qxg6+,Kxg6,Rxe8', 'https://lichess.org/training/Tgadj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TGbbp', 'Classical', 'bobertisgirl', 1655, 'nachoman8', 1658, 'e4,c5,Bc4,d6,Nc3,Nf6,Nf3,a6,a4,Nc6,O-O,h6,Re1,Bg4,h3,Bh5,a5,Nd4,g4,Nxg4,Nxd4,Nf6,Nf3,Qd7,Kh2,Ng4+,Kg3,Nf6,Rg1,Qc6,Bd5,Qd7,Qe1,e6,Bc4,d5,exd5,O-O-O,dxe6,Qc7+,Kg2,Qc6,Qe3,g5,e7,Bxe7,Bxf7,Bxf7,Qxe7,Bd5,Nxd5,Nxd5,Qe5,Rhe8,Qf5+,Kb8,d3,Rd7,Re1,Rxe1,Nxe1', 'Ne3+,Kg1,Nxf5', 'https://lichess.org/training/TGbbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TgBhv', 'Blitz', 'efe_arslanHSA', 1926, 'sakti_pratama', 1951, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Bc4,O-O,O-O,Re8,d3,b5,Bb3,b4,Ne2,Bg4,h3,Bh5,Bg5,Qe7,Qd2,h6,Bxf6,Qxf6,Qf4', 'Bxe2,Qxf6,gxf6,Rfe1,Bh5', 'https://lichess.org/training/TgBhv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TGBy6', 'Blitz', 'ArthurJaimon', 1771, 'dr_stan', 1758, 'c3,c5,e3,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,Qa4,Bd7,d4,cxd4,cxd4,exd4,Qxd4,Nf6,O-O,Be7,Nc3,O-O,Ne4,Qc7,Rb1,Rfe8,Bd2,c5,Qd3,Rab8,Nxf6+,Bxf6,Qc2,Bg4,Ne1,Be2,Bc3,Bxf1,Kxf1,Bxc3,Qxc3,d5,Nf3,Qd6,Qd3,Rb7,Ng5,g6,h4,Reb8,b3,h6,Nf3,Qf6,Qxd5,Qa6+,Kg1,Qxa2,Rd1,Rxb3,Ne5,R8b7,Qd8+,Kg7,Nd7,Rb1', 'Qf8+,Kh7,Nf6#', 'https://lichess.org/training/TGBy6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tGCCu', 'Rapid', 'DraganMilos', 1944, 'richard_rapport22', 1999, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Ne7,O-O,O-O,Bg5,f6,Bh4,Bf5,Nc3,c6,Bg3,a5,Qd2,Bxd3,Qxd3,Ng6,Rfe1,Bxg3,fxg3,Na6,a3,Qd7,Re3,Rfe8,Rae1,Rxe3,Qxe3,Kf7,Rf1,Re8,Qd3,Kg8,Ne2,Qd6,Nh4,Nxh4,gxh4,Nc7,Ng3,Qe6,c3,b5,Nf5,g6,Ng3,Qe3+,Qxe3,Rxe3,Kf2,Re7,h5,Kf7,hxg6+,hxg6,Re1,Ne6,b4,axb4,axb4,Ra7,Ne2,g5,g3,Ng7,g4,Ne6,Ng3,Nf4,Re3,Ra2+,Ne2,Kg6,Ke1', 'Ng2+,Kf2,Nxe3', 'https://lichess.org/training/tGCCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgcyn', 'Rapid', 'krejza', 1818, 'AliAberkane', 2114, 'e4,c6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Nd2,Qa5,c3,Bg4,Bf3,Bxf3,Ngxf3,e6,O-O,Be7,Nc4,Qc7,Re1,b5,Nce5,O-O,Bf4,Bd6,Qc2,Nbd7,Nxd7,Nxd7,Bxd6,Qxd6,Ne5,Rad8,Rad1,Nf6,h4,h6,Re3,c5,Red3,cxd4,cxd4,Nd5,Qc5,Qxc5,dxc5,Rfe8,c6,Rc8,Rc1,f6,Nf3,Red8,Nd4', 'Nf4,Re3,Rxd4', 'https://lichess.org/training/tgcyn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tGD7z', 'Rapid', 'pilipukevgen', 1701, 'mixmxi', 1635, 'e4,c5,Bc4,e6,e5,Nc6,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,Qb6,b3,Nge7,Be3,Nf5,Bd2,Ncxd4,O-O,Nxf3+,Qxf3,Bxe5,Bc3,Bxc3,Qxc3,O-O,Nd2,Qd4,Qc1,d5,Nf3,Qc5,Bd3,Qxc1,Raxc1,Ne7,h4,Bd7', 'Rc7,Bc6,Rxe7', 'https://lichess.org/training/tGD7z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgDLf', 'Rapid', 'chesswithfelix', 2211, 'Figo_Andolini', 2249, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,g6,Nf3,Bg7,Bd3,O-O,O-O,Nc6,h3,a6,Re1,dxc4,Bxc4,b5,Bb3,Na5,Be3,Nxb3,Qxb3,Bb7,Ne5,Nd5,Rac1,Rc8,Nxd5,Qxd5,Qxd5,Bxd5,a3,a5,b4,a4,Nd7,Rfd8,Rxc8,Rxc8,Nb6,Rd8,Rc1,Be4,Rc5,Bd3,Rc3,Bxd4,Bxd4,Rxd4,Nc8,Kf8,Na7,Bc4,Nc6,Rd1+,Kh2,Rd3,Rxd3,Bxd3,Kg3,e6,f4,Ke8,Kf2,f6,g3,Kd7,Nd4,e5,fxe5,fxe5,Nf3,Kd6,Ke3,Bc2,Ng5,h5,h4,Kd5,Nf7,e4,Ng5,Kc4,Ne6,Kb3,Nd4+,Kb2,Nxb5,Bd3,Nd6,Kxa3,b5,Kb4,b6,Kc5', 'b7,Kxd6,b8=Q+', 'https://lichess.org/training/tgDLf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgdRF', 'Rapid', 'stefanonorsc', 1752, 'sadegh86', 1831, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,h6,Bh4,O-O,Bd3,c5,dxc5,Bxc5,Nge2,Be7,O-O,Nc6,Rc1,a6,Bg3,Bg4,f3,Be6,Nf4,Nb4,Bb1,Rc8,a3,Nc6,Nxe6,fxe6,e4,d4,Ne2,e5,f4,Bd6,fxe5,Bxe5,Bxe5,Nxe5,Nxd4', 'Rxc1,Qxc1,Qxd4+', 'https://lichess.org/training/tgdRF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tGfhf', 'Blitz', 'tmano', 1726, 'rolwe', 1648, 'e4,d6,d4,Nf6,Nc3,c6,Bc4,Bg4,Nf3,Nbd7,h3,Bxf3,Qxf3,e5,d5,c5,Bg5,Be7,O-O,a6,a4,O-O,Qg3,Rb8,Be2,Re8,Bh6,Bf8,b3,g6,Bg5,Bg7,Nd1,b5,axb5,axb5,Bd3,c4,bxc4,bxc4,Bxc4,Qc7,Bd3,Qc5,Be3,Qc7,f3,Nc5,Nf2,Nxd3,Nxd3,Nh5,Qf2,Rec8,Ra7,Qxc2,Qxc2,Rxc2,Rd7,Bf8,Ra1,Rb3,Nf2,Rxe3,Ng4,Nf4,Nxe3,Re2,Ra3,Re1+,Kf2,Re2+,Kf1,Rb2,Raa7,Rb1+,Kf2,Rb2+,Kg3,Re2,Ra3,Nh5+,Kh2,Bh6,Ng4', 'Bf4+,Kg1,Re1+,Kf2,Bg3#', 'https://lichess.org/training/tGfhf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tggH5', 'Rapid', 'Remerdus', 2018, 'Knight2k', 2006, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,Nc3,Be7,Nxe4,O-O,d3,Nxd5,g3,f5,Neg5,Bb4+,c3,Re8,Be3,Nxc3,bxc3,Bxc3+,Kd1,Bxa1,a4,h6', 'Qa2+,Be6,Nxe6', 'https://lichess.org/training/tggH5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tGgs6', 'Rapid', 'Temoo555', 1903, 'philodendron68', 2213, 'b3,e5,Ba3,Bxa3,Nxa3,Qe7,Nb1,d5,c3,Nf6,d4,e4,e3,O-O,g3,Bg4,Be2,Bxe2,Nxe2,Nbd7,h4,c6,Kf1,Ng4,Nf4,Ndf6,Kg2,g6,Nd2,h5,Nf1,Rfd8,Nh2,Rac8,Nxg4,Nxg4,Qe2,c5,Rhc1,Kg7,Rc2,Rc6,Rac1,Qd6,Qb5,b6,b4,Rdc8,bxc5,bxc5,Qb7,R8c7,Qb3,c4,Qb4,Nf6,Qxd6,Rxd6,Rb2,Rb6,Rxb6,axb6,Rb1,Ra7,Rxb6,Rxa2,Rd6,Rc2,Nxd5,Nxd5,Rxd5,Rxc3,Rc5,f5,d5,Rd3,Rc7+,Kf6,Rc6+,Kf7,Rxc4,Rxd5,Rd4', 'Rxd4,exd4,Ke6', 'https://lichess.org/training/tGgs6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgHFB', 'Rapid', 'stoptryingsodamnhard', 1837, 'StGr', 1835, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,e6,Bd3,Ngf6,Nxf6+,Nxf6,O-O,Bd6,Bg5,O-O,Ne5,Be7,c3,h6,Bh4,Qc7,Bg3,Qd8,Bh4,Nd7,Nxd7,Bxd7,Bxe7,Qxe7,Re1,f5,Bc4,Rf6,Qb3,Raf8,Qxb7,f4,Bxe6+', 'Rxe6,Rxe6,Qxe6', 'https://lichess.org/training/tgHFB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgI2c', 'Classical', 'sangour', 1753, 'prince23', 1624, 'e4,e5,d4,exd4,c3,dxc3,Bd3,cxb2,Bxb2,Bc5', 'Bxg7,Qg5,Bxh8,Qxg2,Qf3,Qxf3,Nxf3', 'https://lichess.org/training/tgI2c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tGiJd', 'Blitz', 'Masoud2121', 1641, 'guzdoruk_8', 1560, 'd4,Nf6,Nc3,e6,a3,d5,Nf3,h6,Qd3,Nc6,Bf4,Bd6,Qd2,Bxf4,Qxf4,Bd7,Nb5,Rc8,Ne5,O-O,Nxd7,Qxd7,e3,a6,Nc3,Rfe8,Bd3,e5,dxe5,Nxe5,O-O-O,Nxd3+,Rxd3,c6,h3,b5,g4,a5,g5,hxg5,Qxg5,b4,Rg1,g6,Qxf6,bxc3,Qxc3,Qxh3,e4,Qh2,Rdg3,Qxf2,Rxg6+,fxg6', 'Rxg6+,Kf7,Qg7#', 'https://lichess.org/training/tGiJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgjDW', 'Rapid', 'sergeybmw', 2133, 'mkiani1362', 1974, 'd4,d5,c4,Nf6,Bf4,dxc4,e3,b5,b3,cxb3,axb3,Bd7,Nc3,c6,d5,cxd5,Nxd5,e6', 'Nc7+,Qxc7,Bxc7,Bb4+,Ke2', 'https://lichess.org/training/tgjDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TGJQ4', 'Rapid', 'Positional_game', 2217, 'itsmagic', 2350, 'c4,c5,b3,Nc6,Bb2,e5,g3,g6,Bg2,Bg7,e3,Nge7,Ne2,d5,cxd5,Nxd5,a3,O-O,O-O,Bg4,h3,Be6,Nbc3,Qd7,Nxd5,Bxd5,Bxd5,Qxd5,Qc2,Rad8,Rfd1,b6,Qc4,Qd3,Qxd3,Rxd3,Bc3,Rfd8,b4,cxb4,axb4,e4,Bxg7,Kxg7,b5,Na5,Nd4,Rd7,Kf1,Nb3,Nxb3,Rxb3,Ra4,f5,Rda1,Rxd2,Rxa7+,Kh6,R7a2,Rxa2,Rxa2,Rxb5,Ra7,g5,Kg2,Rb2,Rb7,Kg6,Rb8,f4,gxf4,gxf4,exf4,e3,Re8,exf2,Rg8+,Kf5,Rf8+,Ke4,f5,Ke3,Re8+,Kf4', 'f6,Kg5,f7,f1=R+,Kxf1', 'https://lichess.org/training/TGJQ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tGKnP', 'Rapid', 'lemilio775', 1909, 'nilmate', 1768, 'd4,d5,c4,dxc4,Nc3,e5,d5,c6,dxc6,Qxd1+,Nxd1,Nxc6,e3,b5,Nf3,Bg4,Be2,f6,h3,Bb4+,Bd2,Bxd2+,Nxd2,Bxe2,Kxe2,O-O-O,a3,Nge7,Nc3,a6,Rhd1,Nf5,Nce4,Kc7,a4,Kb6,axb5,axb5,g4,Nd6', 'Nxd6,Rxd6,Nxc4+,bxc4,Rxd6', 'https://lichess.org/training/tGKnP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgKU0', 'Blitz', 'anandthelegend', 2303, 'CM ShahMatKanal', 2378, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bd3,Nd7,Be3,O-O,Qd2,Re8,O-O-O,Nf8,h4,Bg4,h5,h6,Rh4,f5,Rdh1,Qf6,Ne5,Rxe5,dxe5,Bxe5,c3,Rd8,f3,f4,Bd4,Bf5,Bxf5,Qxf5,Qc2,Qxc2+,Kxc2,Bxd4,cxd4,Rxd4,b3,Ne6,Re1,Rd5,Rhh1,Rg5,Rhg1,Rxh5,Rd1,c5,Kc3,Nd4,Rd2,a5,Kc4,b6,a4,Re5,Rgd1,Kf8,Rd3,Ke7,R1d2,Ke6,Rd1,Re3,Kc3,Re2,R1d2,Re1,Rd1,Re5,Kc4,h5,Rh1,g6,Rh4,Re2,Rh1,Rc2+,Rc3,Re2,Rd3,Ke5,Rhd1,Rc2+,Rc3,Rxg2,Re1+,Re2,Rg1,Re3,Rf1,h4,Rcc1,g5,Rh1,f6,Rcd1,Rxb3,Rhe1+,Kf5,Kd5,Nxf3,Re7,Nd4,Rh7,f3,Rf1,Rb2,Rh6,Rd2,Kd6,Nc2+,Ke7,Kg4,Rxf6,Nd4,Rg6,h3,Rg1+,Rg2,Re1,h2,Re5,Nf5+,Kf6,f2,Rxf5,h1=Q', 'Rgxg5+,Kh3,Rh5+', 'https://lichess.org/training/tgKU0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgl2f', 'Classical', 'upr999', 1728, 'PierreLaplace', 1695, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,dxc6,Qxd8+,Kxd8,Bd3,Be6,Bg5,Re8,O-O,Ke7', 'e5,Kf8,exf6', 'https://lichess.org/training/tgl2f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tglQb', 'Blitz', 'Boris1950', 1915, 'StoneWalker_chess', 1910, 'e4,c5,f4,d6,Nf3,Nd7,Bb5,Qc7,O-O,e6,e5,dxe5,Nxe5,Nf6,Nc3,Bd6,Qe2,a6,Bxd7+,Nxd7,Nxd7,Bxd7,f5,O-O,f6,Bxh2+,Kh1,gxf6,Rxf6,Kh8,d3,Be5,Rh6,Rg8', 'Rxh7+,Kxh7,Qh5+,Kg7,Qh6#', 'https://lichess.org/training/tglQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TGLUj', 'Blitz', 'zugzwang137', 2247, 'kunderiano', 2129, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Nc6,Ndf3,f6,Bd3,Be7,Qc2,f5,Nh3,cxd4,Nxd4,Nc5,O-O,O-O,Kh1,Ne4,Rg1,Nxd4,cxd4,Bd7,g4,Kh8,gxf5,exf5,Qe2,Qb6,Be3,Rac8,Rab1,a6,Qh5,Bb5,Bxe4,dxe4,Rg3,Rc2,Rbg1,Rg8,Qxf5,Bd3,Qf7,Qxb2,R3g2,Bh4,f5,Be2,Qxg8+,Kxg8', 'Rxg7+,Kf8,Rg8+,Ke7,R1g7#', 'https://lichess.org/training/TGLUj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tGnFp', 'Rapid', 'Bobby_SSK', 1704, 'BRAMAN33477', 1700, 'd4,Nf6,Bf4,g6,e3,Bg7,c4,d6,Nc3,O-O,Nf3,c5,Be2,cxd4,exd4,Nh5,Bg5,f5,Qd2,Re8,O-O,Nf6,d5,Nbd7,b4,a5,a3,axb4,axb4,Rxa1,Rxa1,Ne4,Qe3,Nxc3,Re1,Nxe2+,Rxe2,Ne5,c5,Nxf3+,gxf3,dxc5,Qxc5,Qd6', 'Qxd6,exd6,Rxe8+', 'https://lichess.org/training/tGnFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TGOq1', 'Rapid', 'JAFARI', 1965, 'Vancho59', 1767, 'd4,d5,c4,c6,e3,Nf6,Nf3,Bf5,Nc3,e6,a3,Nbd7,Nh4,Bg6,Nxg6,hxg6,b3,Bd6,h3,Ng4,Be2,Ngf6,Bb2,Qe7,c5,Bc7,b4,b6,cxb6,axb6,O-O,Qd6,f4,b5,Rc1,g5,Bxb5,gxf4,exf4,g5,Bd3,gxf4,Rf3,e5,dxe5,Nxe5,Qe2,Kd7,Bf5+,Kd8,Rxf4,Nc4,Rcf1,Nh5,Ne4,Nxf4,Nxd6,Nxe2+,Kf2,Bxd6,Bxh8,Nf4,Bf6+,Ke8,Re1+,Kf8,Bg5,Rxa3', 'Bh6+,Kg8,Re8+,Bf8,Rxf8#', 'https://lichess.org/training/TGOq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TGPLi', 'Classical', 'oxioxi', 1833, 'vasilkorol', 1869, 'c4,Nf6,d4,g6,Nc3,e6,Nf3,d6,Bd2,b6,e4,Bb7,Qa4+,Bc6,Nb5,a6,d5,exd5,cxd5,Bxb5,Bxb5+,Nbd7,Bc6,Ra7,O-O,Bg7,e5,dxe5,Nxe5,O-O,Bxd7,Nxd7,Nxd7,Re8,Rfe1,b5,Qg4,f5,Nf6+,Bxf6,Rxe8+,Qxe8,Re1', 'Qxe1+,Bxe1,fxg4', 'https://lichess.org/training/TGPLi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgqu0', 'Rapid', 'CrisanMihai7', 1782, 'DeadpoolGER', 1795, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,Nf6,h3,O-O,Bd3,b6,Be3,Bb7,Qd2,Re8,e5,dxe5,dxe5,Nd5,Nxd5,Qxd5,c4,Qd7,O-O-O,Qa4,a3,Nc6,Bc2,Qa6,Bb3,Na5,Qc2,Rad8,Ba2,c6,g4,b5,c5,Nc4,Bxc4,bxc4,Rd2,Qb5,Rhd1,Rxd2,Rxd2,f6,e6,Bc8,Nd4,Qb8,Nxc6,Qh2,Qxc4', 'Qh1+,Kc2,Qxc6', 'https://lichess.org/training/tgqu0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgQvc', 'Rapid', 'crnilaufer', 1672, 'ErCiaina', 1726, 'e4,c5,Nf3,e6,Nc3,d5,exd5,exd5,Qe2+,Be7,Qb5+,Nc6,Ne5,a6,Qe2,Nxe5,Qxe5,Nf6,d4,O-O,Bg5,Ng4,Qxe7,Re8,Nxd5,Rxe7+', 'Nxe7+,Kf8,Ng6+,hxg6,Bxd8', 'https://lichess.org/training/tgQvc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgREh', 'Rapid', 'ak1313', 1640, 'Lef22', 1645, 'b3,f6,g3,e5,Bg2,c6,e3,d5,d4,e4,h4,Bd6,Qh5+,g6,Qd1,Be6,h5,g5,h6,Bf8,Bh3,Qd7,Qh5+,Qf7', 'Bxe6,Qxh5,Rxh5', 'https://lichess.org/training/tgREh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TgroQ', 'Rapid', 'sublimJoker', 1680, 'Spatzi', 1633, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe5+,Qe7,Bf4,Nf6,Nc3,Ng4,Qc7,f5,Bd3,fxe4,Nxe4,d5,Bb5+,Bd7,Bxd7+,Qxd7,Qxd7+,Kxd7,Ng3,Re8+,Ne2,h6,h3,Nf6,Rd1,g5,Be3,d4,O-O,Kc6,Nxd4+,cxd4,Bxd4,Bg7,Bc3,Re7,Bb4,Rd7,Rde1,Nd5,Re6+,Kc7,Ba3,Nf4,Re4,Rhd8,Ree1,a6,f3,Bd4+,Kh2,Ng6,Re6,Be5+,g3,Rd2+,Kh1,Rd1,Kg2,Rxf1,Kxf1,Rg8,Kg2,Kd7,Rb6,Kc7,Rb4,Bd6', 'Rc4+,Kd7,Rd4', 'https://lichess.org/training/TgroQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgSWD', 'Rapid', 'aguilar1992', 1884, 'IdoGigi', 1867, 'd4,d5,Bf4,e6,e3,g5,Be5,f6,Bg3,h5,h3,h4,Bh2,c5,c4,Nc6,cxd5,Qxd5,Bb5,Qxg2,Bxc6+,Qxc6,f3,cxd4,Qxd4,e5,Qd3,Qc1+,Qd1,Bb4+,Nc3,Bxc3+,bxc3,Qxe3+,Ne2,Bxh3,Rg1,Ne7,Qd2,Qxf3,O-O-O,O-O,Qd3,Qxd3,Rxd3,Bf5,Rf3,e4,Rff1,Be6,Nd4,Bxa2,Bd6,Rf7,Bxe7,Rxe7,Rxf6,Kg7,Rf2,Bc4,Nf5+,Kf6,Nxe7+,Kxe7,Rxg5,Rc8,Rg4,Bd3,Rxh4,Rxc3+,Kd1,Ra3,Rh8,b5,Rh7+,Ke6,Rff7,Ra1+,Kd2,a5,Rfg7,Ra3,Rh5,Ra2+,Ke3,Re2+,Kd4,Rd2,Rg6+,Kf7,Rgg5,Rd1,Ke5,a4,Rf5+,Kg6,Rhg5+,Kh6,Kf6,Rf1', 'Rh5#', 'https://lichess.org/training/tgSWD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TgtG0', 'Rapid', 'Tim_pro228-227', 2175, 'Mufundisi', 2160, 'e4,c5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,Ba6,Be3,cxd4,Nxd4,Rc8,Nc3,Nf6,Qd2,e5,Nb3,Qc7,f4,Be7,Ne2,Ng4,O-O,Nxe3,Qxe3,O-O,fxe5,dxe5,Rf3,c5,Nc3,c4,Nd5,Qb7,Nxe7+,Qxe7,Nd2,Qb4,Qc3,Qc5+,Kh1,Rfd8,Rd1,Rd4,Rdf1,f6,h3,Qd6,Nb1,Rxe4,Na3,Rd4,R3f2,h6,Qg3,Rf4,Rxf4,exf4,Qxf4,Qxf4,Rxf4,Rc5,Kg1,Kf7,c3,g5,Rd4,Ke6,Kf2,f5,Nc2,Rb5,Nb4,Bb7,Rxc4,a5,Nd3,Be4,a4,Bxd3', 'Rc6+,Kd5,axb5', 'https://lichess.org/training/TgtG0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgudO', 'Blitz', 'jereycorong', 1980, 'royu', 1942, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,f3,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qxe7+,Kxe7,c4,Nd4,Bd3,b5,b3,bxc4,bxc4,d6,Nc3,Be6,O-O,Rhc8,Nd5+,Bxd5,cxd5,Rc3,Rd1,a5,Bb2,Rc7,Bxd4,exd4,Bb5,Rb8,a4,Nd7,Rxd4,Nc5,Rc1,Rcb7,e5,Nb3,exd6+,Kxd6,Rc6+,Ke7,Re4+,Kf8,d6,Rd8,Rc7,Rbb8,d7,Nd2,Re2,Nb3,Rc3,Nd4,Re4,Nxb5,axb5,Rxb5,Rc8,Rb8', 'Re8+,Rxe8,dxe8=Q#', 'https://lichess.org/training/tgudO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgvO2', 'Blitz', 'borri29', 1624, 'MartinBr', 1640, 'd4,Nf6,e3,d5,f4,e6,Nf3,c5,Bd3,Bd6,O-O,O-O,Ne5,Nc6,c3,a6,Bc2,Bd7,Qf3,cxd4,exd4,Rc8,Nxd7,Qxd7,Nd2,Na5,Qg3,Nc4,Nf3,Kh8,Ne5,Bxe5,fxe5,Ne4,Qg4,Qe7,Qh5,h6,Rf3,Ng5,Rg3,f6,exf6,Qxf6,Bxg5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/tgvO2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TGvqh', 'Rapid', 'Krestnikov11', 1832, 'Szabi', 1751, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,d6,d5,Nf6,dxe6,fxe6,e5,Nfd7,Ng5,Qe7,exd6,Qxd6,Bd3,Nc6,Qh5+,g6,Bxg6+,hxg6,Qxg6+,Ke7,Qf7+,Kd8,Nxe6+,Kc8', 'Qe8+,Nd8,Qxd8#', 'https://lichess.org/training/TGvqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgW7e', 'Blitz', 'ZIIIX', 1519, 'Joueurfel', 1589, 'e4,e6,Nf3,Be7,d4,d6,Bd3,Nd7,O-O,e5,d5,Ngf6,c4,Nf8,Nc3,Ng6,Qa4+,Bd7,Qb3,O-O,Qxb7,Nh5,Be2,Ngf4,Bd1,Bh3,gxh3,Nxh3+,Kh1,N5f4,Bxf4,Nxf4,Ne2,Bh4,Nxf4,exf4,Nxh4,Qxh4,Rg1,Qxf2,Bh5,Qe3,Rae1,Qd4,Qxc7,Rac8,Qxd6,Rxc4,Qxf4,Rc2,Rxg7+,Kh8,Rxh7+,Kxh7,Qf5+,Kh8,Rg1,Rb8,Qxf7,Rxh2+,Kxh2,Rxb2+,Kh1', 'Qxe4+,Qf3,Qh4+,Qh3,Qxh3#', 'https://lichess.org/training/tgW7e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgwao', 'Classical', 'DIanaQUintanasAEZ', 1604, 'Daniel_NOR', 1614, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bg4,Qe2+,Be7,Qb5+,Nd7,Qxd5,Ngf6,Qxb7,O-O,Nc3,Rb8,Qc6,Bb4,Be2,Re8,a3,Rxe2+,Kxe2,Qe7+,Be3,Bxc3,Qxc3,Ne4,Qc6,Rxb2,Qa8+,Nb8,Rab1', 'Nc3+,Kd2,Nxb1+,Rxb1,Rxb1', 'https://lichess.org/training/tgwao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgWhi', 'Rapid', 'vinko50', 1618, 'Zielus', 1604, 'e4,e5,Nf3,Nc6,c3,Bc5,Be2,d5,exd5,Qxd5,O-O,Nf6,d3,e4,dxe4,Qxe4,Re1,Ng4,Bc4', 'Bxf2+,Kh1,Bxe1', 'https://lichess.org/training/tgWhi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tgwYN', 'Rapid', 'Betterbychoice', 1859, 'HTown72', 1857, 'd4,d5,Bf4,Bg4,h3,Bh5,Nc3,e6,Nf3,a6,e4,dxe4,Nxe4,Nc6,c3,h6,Bd3,Bg6,Qb3,b5,a4,b4,Qc4,Qd7,Nc5,Bxd3,Qxd3', 'Bxc5,Ne5,Nxe5', 'https://lichess.org/training/tgwYN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TgY2p', 'Rapid', 'mumia50', 1907, 'maggen1111', 1919, 'b3,e6,Bb2,d5,Nf3,Nf6,e3,c5,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,Be7,h3,O-O,Ne5,Bd6,Nxd7,Nxd7,d4,cxd4,Bxd4,e5,Bb2,Nb6,Nd2,Rc8,Rc1,Qg5,a3,e4,Qg4,Qxg4,hxg4,Rfe8,c4,dxc4,Nxc4,Nxc4,Rxc4,Rxc4,bxc4,Rc8,Rc1,h6,a4,Kh7,Bd4,b6,f3,exf3,gxf3,Kg6,Kf2,f6,f4,Bc5,Kf3,Rd8,Ke4,Kf7,f5,g6,Rb1,gxf5+,gxf5,Bd6,Rb5,Rc8,Kd5,Be5,Bxe5,fxe5,c5', 'Rxc5+,Rxc5,bxc5', 'https://lichess.org/training/TgY2p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tgy9m', 'Rapid', 'joseigal', 1947, 'Arturro72', 1885, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Nge7,O-O,c4,Bc2,Ng6,h4,Be7,h5,Nf8,b3,cxb3,axb3,Bd7,Nbd2,h6,c4,Nxd4,Nxd4,Qxd4,Ba3,Bg5,Nf3,Qxd1,Rfxd1,Bc6,Nd4,Nd7,Nxc6,bxc6,cxd5,cxd5,Bd6,Bf4,Re1,Rc8,Bd1,f6,Rxa7,fxe5,g3,Bd2,Re2,Bc3,Rc2,d4,f4,e4,Rca2,Nf6,Re7+,Kd8,Rxg7,Rg8', 'Be7+,Ke8,Bxf6,Rxg7,Bxg7', 'https://lichess.org/training/Tgy9m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tGysN', 'Blitz', 'Karlos_ulsk', 2611, 'GM Evgen_88', 2460, 'd4,Nf6,Nf3,e6,Bg5,h6,Bh4,d6,Nbd2,g5,Bg3,Nh5,e3,Bg7,Bd3,Bd7,c3,Bc6,O-O,Nd7,Qe2,Nxg3,hxg3,Nf6,b4,Qe7,e4,e5,d5,Bd7,c4,Ng4,Rfc1,h5,c5,h4,gxh4,gxh4,cxd6,cxd6,Rc7,a6,Rxb7,h3,g3,h2+,Kh1,Bh6,Nf1,Qf6,Rb1,Rc8,Bxa6,Rc3,Rb8+,Ke7,Rxh8,Rxf3,Rxh6,Nxh6,Rb2,Ng4,Nxh2,Qh6,Kg2,Qxh2+,Kxf3', 'Qh1#', 'https://lichess.org/training/tGysN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tGytF', 'Classical', 'KnightTime96', 1883, 'tolegen_kulmatov', 1989, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bg5,Be7,h3,O-O,Bd3,Nc6,c3,Be6,Nbd2,Qd7,Qc2,h6,Bh4,a6,O-O-O,b5,Ne5,Nxe5,dxe5,Nh5,Bxe7,Qxe7,Rdf1,Nf4,Bf5,Nxg2,Rhg1,Nf4,Rg4,Nxh3,Rh1,Nxf2,Rxh6,Nxg4', 'Bh7+,Kh8,Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/tGytF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tGyv0', 'Rapid', 'razzarr', 1610, 'Acerb8', 1648, 'e4,b6,Bc4,e6,d3,Bb7,Nd2,Nf6,Bb3,Bc5,Ngf3,O-O,c3,d5,exd5,Bxd5,d4,Bd6,O-O,Nbd7,Re1,Bb7,Nc4,Bxf3,Qxf3,Be7,Bf4,Nd5,Bg3,c5,Ne5,Nxe5,Bxe5,Nf6,Rad1,Bd6,dxc5,Bxc5,Rxd8,Raxd8,Bxf6,gxf6,Qg3+,Kh8,h3,Rd2,Kh2,Rg8,Qc7', 'Bd6+,Qxd6,Rxd6', 'https://lichess.org/training/tGyv0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TH0kX', 'Rapid', 'RiseOrFall252', 1943, 'asu76', 1940, 'd4,f5,Bf4,Nf6,e3,g6,h4,Bg7,Nf3,O-O,h5,Nxh5,Rxh5,gxh5,Ng5,h6,Nh3,d6,Bc4+,Kh7,Qxh5,e5', 'Ng5+,Qxg5,Bxg5', 'https://lichess.org/training/TH0kX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TH33Z', 'Blitz', 'LevyRodrigues', 2009, 'Capivaramen', 1826, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Nf6,d4,cxd4,Nxd4,Bb4,Nxc6,bxc6,Bg5,d5,e5,h6,Bh4,g5,exf6,gxh4,Bd3,Qxf6,O-O,Bd7,f4,Rg8,Qf3,Bd6,Rae1,Rb8,Nxd5,cxd5,Qxd5,Bc7,f5,h3,fxe6,Rxg2+,Qxg2,hxg2,Rxf6,Bxe6,Bc4,Ke7,Rxh6,Rg8,Bxe6', 'Bb6+,Re3,Bxe3#', 'https://lichess.org/training/TH33Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TH53t', 'Rapid', 'RoniTheEagle333', 2154, 'josemariagomez', 2181, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Nbd7,a4,Qc7,Be2,g6,O-O,Bg7,Qd2,h5,Rad1,Ne5,h3,Bd7,Kh1,Qc8,Kh2,Bg4,hxg4,hxg4+,Kg1,Rh5,g3,Kd7,Kg2,Rh2+,Kxh2,Qh8+,Kg1,Qh3,Bg5,Rh8,Bh4,Nh5,Qe3,Bf6,Nf5,gxf5,exf5,Bxh4,gxh4', 'Nf3+,Bxf3,gxf3', 'https://lichess.org/training/TH53t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tH5FR', 'Classical', 'Ignacio_15', 1683, 'NuukMe', 1627, 'e4,c5,Nf3,Nc6,Bb5,d5,exd5,Qxd5,O-O,Bg4,Be2,Nd4', 'Nxd4,Bxe2,Nxe2', 'https://lichess.org/training/tH5FR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tH5rm', 'Blitz', 'CubaE8', 2430, 'FM Revan_2002', 2540, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Nc3,Bb4,Bd2,O-O,O-O-O,Re8,Qg3,Rxe4,a3,Bxc3,Bxc3,d5,f3,Re3,Bd3,d4,Bd2,Rxd3,cxd3,Bf5,Bg5,Bg6,Ne2,h6,Bxf6,Qxf6,Nf4,Bf5,Nh5,Qe5,Rhe1,Qc5+,Kb1,Bxd3+,Rxd3,Qxh5,Qxc7,Qg6,Rd1,Re8,Ka1,Re7,Qc8+,Kh7,R1d2,Re1+,Rd1,Rxd1+,Rxd1,Qxg2,Qf5+,Qg6,Qxg6+,Kxg6,b4,a6,Kb2,Kf5,Kb3,Kf4,Kc4,Kxf3,Kc5,Ke3,Kb6,d3,Kxb7,Ke2,Rg1,Nd4,Kxa6,d2,b5,f5,b6,d1=Q,Rxd1,Kxd1,b7,Nc6,Kb6,Nb8,a4,f4,a5,f3,a6,Nxa6,Kxa6,f2,b8=Q,f1=Q+,Ka5,Qe1+,Ka4,Qd2,Qg3,Kc2,Qb3+,Kc1,Qg3,g5,Kb3,Qc2+,Kb4,Qd2+,Kb3,Qf4', 'Qe1#', 'https://lichess.org/training/tH5rm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Th6Lb', 'Rapid', 'Interstellanoob', 1929, 'Leomazakre', 1865, 'f4,e6,Nf3,d5,e3,Nf6,Nc3,c5,Bb5+,Nc6,Ne5,Qb6,Bxc6+,bxc6,O-O,Bd6,Na4,Qc7,c4,Bxe5,fxe5,Qxe5,cxd5,Nxd5,Qf3,Nf6,Qxc6+,Nd7,Qxa8,O-O,Qxa7,Nf6,Qxc5,Qe4,Nc3,Qg6,Qe5,Bb7,Qg3,Qh6,Rf4,Nh5,Qh3,Qg6,Rg4,Qf5,Ne2,Ba6,Nf4,Nxf4,Rxf4,Qc2,e4,Qd1+,Kf2,Qf1+,Kg3,Qe1+,Rf2,f5,Qh5', 'f4+,Kh3,Qxf2', 'https://lichess.org/training/Th6Lb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('th8BS', 'Rapid', 'maksimu', 1952, 'Lostenchante6', 1988, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,d6,Bg5,g6,O-O,Bg7,Nxc6,bxc6,Qd2,O-O,Rfd1,Bb7,Qe3,c5,Nd5,Nxd5,exd5,Qc7,c3,Rfe8,Qd2,e6,Bc4,exd5,Bxd5,Re5,Bxb7,Qxb7,Bf4,Re6,Qd5', 'Re1+,Rxe1,Qxd5', 'https://lichess.org/training/th8BS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tH8CQ', 'Rapid', 'prince2582', 1906, 'SirRym', 1908, 'd4,d5,e3,Nf6,f4,Bg4,Nf3,e6,Bd3,c5,c3,c4,Bc2,Nc6,O-O,Bd6,Qe1,b5,Nbd2,Qb6,Ne5,a5,Qg3,Ke7,Nxg4,Nxg4,Qxg4,b4,f5,h5,Qg5+,Kd7,fxe6+,fxe6,Qxg7+,Ne7,e4,Rag8,Qf6,Rf8,Ba4+,Kc7,Qxe6', 'Bxh2+,Kxh2,Qxe6', 'https://lichess.org/training/tH8CQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Th8nK', 'Blitz', 'agriokatsiki', 2375, 'ruylpez122', 2248, 'd4,d5,Bf4,e6,Nf3,Bd6,Bg3,Nf6,e3,Ne4,Bxd6,Qxd6,Nbd2,Nxd2,Qxd2,Nd7,Bd3,Nf6,c3,O-O,Ne5,c5,g4,b6,g5,Ne4,Bxe4,dxe4,h4,f6,gxf6,gxf6,Rg1+,Kh8,Ng4,e5,O-O-O,exd4,exd4,f5,Nh6,f4', 'Rg8+,Rxg8,Nf7+,Kg7,Nxd6', 'https://lichess.org/training/Th8nK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tHAfs', 'Rapid', 'nyku', 1789, 'PadreJBO', 1911, 'e4,c5,Bc4,d6,Nf3,e6,Nc3,Nf6,e5,dxe5,Nxe5,Qc7,d4,cxd4,Qxd4,a6,Bf4,Bd6,O-O,O-O,Rae1,Rd8,Qe3,b5,Bb3,Bb7,Nxf7,Kxf7,Qxe6+,Kf8,Bxd6+,Qxd6', 'Qf7#', 'https://lichess.org/training/tHAfs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tHaMW', 'Blitz', 'xy-Math', 1805, 'djoenan', 1802, 'e4,c5,Nf3,e6,d4,h6,d5,d6,Be2,e5,O-O,a6,c4,Nf6,Nc3,Bg4,h3,Bh5,Nd2,Bg6,Bd3,Be7,f4,Bh5,Qe1,exf4,Rxf4,Nbd7,Rf1,Ne5,Be2,Bg6,Bf3,O-O,Kh1,Nh7,Ne2,Nd3,Qd1,Bh4,Bg4,Nf2+,Rxf2,Bxf2,g3,Ng5,Kg2,Bd4,Nxd4,cxd4,Nf3,Bxe4,h4,Bxf3+,Bxf3,Nh7,Qxd4,Rc8,b3,b5,Bb2,f6,Re1,Re8,Re6,Nf8,Re4,Ng6,Bh5,Rxe4,Qxe4,Ne5,Bxe5,dxe5,Qg6,bxc4,Qf7+,Kh8,bxc4,Rc7,Qg6,Rxc4,Kh3,Qd7+,Bg4,Qxd5', 'Qe8+,Qg8,Qxg8+,Kxg8,Be6+,Kh7,Bxc4', 'https://lichess.org/training/tHaMW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ThbZ7', 'Blitz', 'NM TacticJesus', 2225, 'Mindwheeel', 2311, 'g3,c6,Bg2,d5,Nf3,e6,O-O,Nf6,d3,Bd6,Nbd2,Qe7,e4,e5,c3,O-O,Qe2,Nbd7,h3,dxe4,Nxe4,Nxe4,dxe4,Nf6,Nh2,h6,Ng4,Nxg4,hxg4,Be6,Bf3,Qd7,Kg2,Rad8,Be3,b6,Rh1,c5,g5,hxg5,Bxg5,f6,Be3,Qc6,Rh4,Kf7,Rah1,Rg8,Bh5+,Ke7,Qf3,f5,exf5', 'Bd5,Bg5+,Kd7,Rd1,Bxf3+', 'https://lichess.org/training/ThbZ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tHBzS', 'Rapid', 'smrt2win', 1786, 'Kolyandra-2_0_1_7', 1988, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Nf6,Be3,Be7,f3,O-O,Qd2,d5,e5,Nxe5,f4,Nc6,Nxc6,bxc6,O-O-O,Bb4,a3,Ba5,Bd3,Qd6,h3,c5,g4,d4,g5,dxc3', 'Bxh7+,Nxh7,Qxd6', 'https://lichess.org/training/tHBzS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('thCr4', 'Classical', 'Gvein', 1716, 'LeNalette', 1643, 'c4,e5,Nc3,f5,g3,d6,Bg2,Nc6,d3,Nf6,Nf3,Be7,O-O,Be6,Ne1,O-O,Nd5,a5,Nc2,h6,e4,Bf7,exf5,Nxd5,cxd5,Nb4,Ne3,Bg5,a3,Bxe3,axb4,Bxc1,Qxc1,a4,Qc2,b5,Qe2,Qg5,Be4,Bh5,f3,Bf7,Kg2,h5,h4,Qf6,Kh3,c6,f4,cxd5,fxe5,dxe5,Bg2,Rac8,g4,hxg4+,Qxg4,Rc2,Rab1,Rfc8,Qg5,d4,Qxf6,gxf6,Be4,Ba2,Rg1+,Kf7,Ra1,Rxb2', 'Rxa2,Rxa2,Bd5+', 'https://lichess.org/training/thCr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tHCXC', 'Blitz', 'FM dabee', 2515, 'IM Yarebore', 2716, 'e4,g6,d4,Bg7,Nf3,d6,Bc4,Nf6,Qe2,e6,e5,dxe5,dxe5,Nd5,O-O,O-O,Rd1,Nc6,Bg5,Qe8,h3,Na5,Bxd5,exd5,Rxd5,b6,Rd8,Ba6,Qxa6,Rxd8,Bxd8,Bxe5,Nbd2,Qxd8,c3,Bf4,Nb3,Nxb3,axb3,Qd5,b4,Qb3,Qe2,Rd8,Nd4,Qd5,b5,Ra8,Rd1,Bd6,Nc6,Qf5', 'Rxd6,cxd6,Ne7+,Kf8,Nxf5', 'https://lichess.org/training/tHCXC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THDOp', 'Rapid', 'Sir_Antonius_Block', 1793, 'dhafinfaza15', 1768, 'd4,e6,c4,d5,Nc3,c5,dxc5,Bxc5,cxd5,Qf6,Nf3,Ne7,d6,Nf5,Ne4,Bb4+,Bd2,Qxb2,Bxb4,Qxb4+,Nfd2,O-O,Rb1,Qa5,e3,Rd8,Be2,Nxd6,Nxd6,Rxd6,Rb2,b6,Bf3,Nc6,O-O,Bb7,Qc2,Qg5', 'Ne4,Qe7,Nxd6', 'https://lichess.org/training/THDOp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('thDor', 'Rapid', 'arshamgh1390', 1977, 'Ravshan2', 2142, 'Nf3,Nf6,g3,g6,c4,Bg7,Nc3,c5,Bg2,O-O,d4,d6,O-O,Nc6,d5,Na5,Nd2,Bd7,Qc2,a6,f4,b5,b3,b4,Nd1,Nxd5,Bxd5,Bxa1,Bxa8,Qxa8,Nb2,Rc8,Qb1,Bxb2,Bxb2,d5,Rc1,Bg4,Qd3,d4,e4,Nc6,Kg2,Re8,h3,Bd7,g4,f5,gxf5,gxf5,Kh2,Qb8,Rg1+,Kf7,Qf3,Rg8', 'Qh5+,Rg6,Qxh7+', 'https://lichess.org/training/thDor');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('The4R', 'Rapid', 'Chessorama', 2052, 'Artemkov', 1897, 'e4,e6,Nf3,Nf6,e5,Nd5,c4,Nf4,d4,Ng6,Be2,c5,d5,Qa5+,Bd2,Qb6,b3,Qc7,Bc3,Be7,d6,Qd8,dxe7,Qxe7,Qd6,Nc6,Qxe7+,Ncxe7,O-O,b6,Rd1,Bb7,Na3,O-O,Rxd7,Bc6,Rd6,Be4,Rad1,Nf5,Rd7,Nf4,Bf1,Bc6,Rc7,Nh3+,gxh3,Bxf3,Rdd7,Nh4,Nb5,Ng6,Bg2,Nh4,Bxf3,Nxf3+,Kg2,Nh4+,Kg3,Nf5+,Kf4,h6,Nd6,g5+,Kg4,h5+,Kxh5,Ng7+,Kxg5,Kh7,Rxf7,Rg8,Kf4,Kh6,Ke3,Rad8,Rf6+,Kh5,Nf7,Nf5+,Ke2,Rdf8,Bd2,Nd4+,Ke1', 'Rg1#', 'https://lichess.org/training/The4R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THEMn', 'Rapid', 'Andrey19-84', 1759, 'solariux', 1703, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,d4,exd4,Bxc6,Bxc6,Nxd4,Qd7,Nxc6,Qxc6,c3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd2,O-O-O,Qf3,Rd7,Rfe1,Be5,Qg4,g6,Nf3,h5,Qg5,Re8,Rad1,b6,Nd4,Bxd4,Rxd4,Rde7,f3,Re5,Qf6,R8e7,Rc1,R5e6,Qg5,a5,b3,b5,c4,Re5,cxb5,Qxb5,Qd2,Rc5,Rxc5,Qxc5,Kf1,Qb5+,Rc4,f5,Qxd6', 'Qxc4+,bxc4,cxd6', 'https://lichess.org/training/THEMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Thf1N', 'Blitz', 'cheqy', 2062, 'murrayrookbard', 2072, 'e4,Nc6,d4,e5,d5,Nce7,Be3,Nf6,f3,Ng6,c3,a6,Nd2,Be7,Ne2,O-O,Qc2,d6,g4,Nd7,O-O-O,Bg5,Qd3,Nc5,Bxc5,dxc5,Kb1,Nf4,Nxf4,Bxf4,h4,b5,c4,b4,Nb3,Qd6,g5,a5,Bh3,Bxh3,Rxh3,a4,Nc1,a3,b3,Rad8,Qf1,c6,Qf2,g6,Nd3,cxd5,exd5,Rc8,Rg1,Rfe8,h5,e4,fxe4,Rxe4,hxg6,fxg6,Rgh1,Rc7,Qh4,Rd4,Qe1,Bxg5,Qe8+,Qf8,Qxg6+,hxg6,Rh8+,Kg7', 'R1h7+,Kf6,Rxf8+,Rf7,Rhxf7#', 'https://lichess.org/training/Thf1N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tHgJi', 'Rapid', 'EscapeP', 1893, 'hassotasso', 1934, 'e4,e5,f4,d5,exd5,Qxd5,Nc3,Qe6,Qe2,exf4,d3,Bd6,Nf3,Nf6,Bd2,O-O,O-O-O,Qxe2,Nxe2,Nh5,Nc3,c6,Be2,Nf6,Rdf1,Be6,Ng5,Bf5,Bxf4,Bxf4+,Rxf4,Bg6,g4,h6,Nf3,Nbd7,h4,Rfe8,Kd2,Nd5,Nxd5,cxd5,Rf1,Re7,Nd4,Rae8,Bf3,Nb6,Nf5,Bxf5,Rxf5,Rd8,Bd1,Rd6,g5,hxg5,Rxg5,Rh6,h5,Kh7,Rgf5,f6,Bf3,Rd7,Re1,a6,Bg4,Rd6,Re7,Nd7,Bf3,Ne5,Be2,b5,d4,Nc4+,Kc1,Kg8,Bf3,Kf8,Ra7,Ne3,Rf4,f5,Kd2,Nc4+,Kd3,Nxb2+,Ke2,Na4,Rxf5+,Kg8,Bxd5+', 'Rxd5,Rxd5,Nc3+,Kd3,Nxd5', 'https://lichess.org/training/tHgJi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THGp4', 'Rapid', 'abdullah_ali', 2105, 'aogorek', 2007, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,Na5,Bxf7+,Kxf7,exf6,Qxf6,O-O,Bd6,c3,Re8,cxd4,Nc6,Qb3+,Kf8,Be3,a5,Nc3,a4,Qc4,b6,Rfe1,Bb7,Bg5,Qf7,Qd3,Nb4,Qxh7,Bxf3,gxf3,Qxf3,Bh4,Kf7,Rxe8,Rxe8,Bg3,Bxg3,hxg3,Nd3,Rf1,Nxb2,Nb5,Re6,Qh3,Qc6,d5,Qxd5,Nxc7,Rh6', 'Qxh6,gxh6,Nxd5', 'https://lichess.org/training/THGp4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tHh40', 'Rapid', 'Disposer', 1685, 'WO_Schrodinger', 1690, 'd4,Nf6,c3,d6,Bg5,g6,Bxf6,exf6,Nf3,Bg7,Nbd2,O-O,e3,Nc6,Be2,b6,O-O,Bb7,Ne1,f5,Bf3,Qg5,Nc2,a5,e4,Ne7,exf5,Bxf3,Nxf3,Qxf5,Ne3,Qb5,Rb1,c5,dxc5,dxc5,Nd5,Nxd5,Qxd5,Rad8,Qe4,Rfe8,Qc2,Re2,Qb3,Qc6,Rfe1,Rxe1+,Rxe1,a4,Qc4,b5,Qf4,Qd5,a3,Qb3,Ne5,Bxe5,Qxe5,Qxb2,Qxc5,Qd2,Rf1,Qd1,Qxb5,Qb3,Qb4,Rd1,Qxb3', 'Rxf1+,Kxf1,axb3,Ke2,b2', 'https://lichess.org/training/tHh40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('thHOa', 'Rapid', 'santosh21', 1870, 'hatemahamed009', 1854, 'e4,e6,d4,c5,c3,b6,d5,exd5,Qxd5,Nc6,Bc4,Qe7,Bg5,f6,Bf4,Bb7,Qd3,O-O-O,Ba6,Ne5,Bxb7+,Kxb7,Qd5+,Kb8,Nf3,d6,Nxe5', 'dxe5,Bxe5+,fxe5', 'https://lichess.org/training/thHOa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Thilj', 'Rapid', 'Mohammedbadr321', 1820, 'Alecsandrch71', 1790, 'e4,e5,Nf3,Nf6,d4,Nxe4,Nxe5,d5,Qe2,Be7,f3,Nd6,Nc3,O-O,Nxd5,b6,Bf4,Be6,Nxe7+,Qxe7,O-O-O,Nf5,g4,Nd6,Bg2,f6,Nd3,Qd7,Bxd6,Qxd6,f4,Re8,Bxa8,c6,Qf3,Bd5,Qg3,Bxh1,Rxh1,Nd7,f5,Qxg3,hxg3,Rxa8,Nf4,Re8,Kd2,c5,Ne6,cxd4,Nxd4,Ne5,Kc3,Nxg4,Nb5,a6,Nd6,Rd8,Rd1,Nf2,Rd4', 'Rxd6,Rxd6,Ne4+,Kd3,Nxd6', 'https://lichess.org/training/Thilj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THiNf', 'Rapid', 'sugarray2550', 1952, 'omoueza', 1876, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,c6,d4,e6,Bd2,Qc7,h3,Bf5,g4,Bg6,Ne5,Bd6,Nxg6,hxg6,Ne4,Bf4,Bxf4,Qxf4,Bd3,Nf6,Qd2,Qc7,Nxf6+,gxf6,O-O-O,Nd7,f4,O-O-O,Qc3,Qxf4+,Kb1,f5,gxf5,gxf5,Rdf1,Qc7,d5,exd5,Bxf5,Kb8,Qg7,Nb6,Bg4,Rdf8,Be6,Nc4', 'Rxf7,Qxf7,Bxf7', 'https://lichess.org/training/THiNf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tHJBY', 'Rapid', 'VincV', 1923, 'Kamiski19', 1737, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,dxc5,Bxc5,Bb5+,Nc6,O-O,Nf6,Ne5,Bd7,Nxd7,Qxd7,Qe2+,Ne4,Nd2,O-O,Nxe4,dxe4,Qxe4,Rae8,Bxc6,bxc6,Qf3,Re6,Bf4,Rfe8,Rad1,Qb7,b3,Bb6,Bc1,Qa6,a4,Rf6,Qg3,Rg6,Qh3,Rge6,Bb2,f6,Rd7', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/tHJBY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THjS5', 'Classical', 'hadekok', 1713, 'andresmb', 1737, 'd4,Nf6,Nf3,g6,Be3,Bg7,Qd2,d5,Bh6,O-O,Bxg7,Kxg7,Nc3,c5,e3,cxd4,exd4,Nc6,Bd3,a6,O-O,Qb6,Rab1,Nxd4,Nxd4,Qxd4,Ne2,Qg4,f3,Qd7,Rbe1,b5,b3,Bb7,Nd4,Rae8,Re5,Qd6,Rfe1,Nd7,Nf5+,gxf5,Rxf5,Qh6', 'Rg5+,Kh8,Rg8+,Rxg8,Qxh6', 'https://lichess.org/training/THjS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THjvs', 'Rapid', 'Kheractis', 1660, 'Scarff', 1721, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,g6,Bc4,Bg7,Nde2,d6,h3,b5,Bb3,Na5,Qd5,Be6,Qd3,Nxb3,axb3,Nf6,O-O,Nd7,Nd4,Nc5,Nxe6,Nxe6,Qf3,Rc8,Rxa6,b4,Nd5,Rxc2,Nxb4,Nd4,Qd3,Re2,Be3,Rxe3,Qxe3,O-O,Nc6,Nxc6,Rxc6,Qa5,Rfc1,Bxb2,R1c2,Qa1+,Kh2,Be5+,f4,Bd4,Qc1,Qa5,Rc8,Qb4,R2c4,Rxc8,Rxb4,Rxc1,Rxd4,Rb1,b4,Kg7,Kg3,h5,Kf3,Kf6,Ke3,Ke6,Kd3,Rd1+,Kc3,Rc1+,Kb3,Rg1,b5,Rxg2,Ka4,Ra2+,Kb4,Rb2+,Ka5,Kd7,Rb4,Ra2+,Kb6,Kc8,Rc4+,Kb8,Kc6,Ra7,Kb6,Rb7+,Ka6,Ra7+,Kb6,Rb7+,Kc6,Rc7+,Kd5,Rxc4,Kxc4,Kb7,Kb4,Kb6,Ka4,e6,h4,d5,exd5,exd5,Kb4,d4,Kc4,f6,Kxd4,Kxb5,Ke4,Kc5,f5,g5', 'hxg5,Kd6,g6', 'https://lichess.org/training/THjvs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tHk2P', 'Rapid', 'HellenicTrireme', 1778, 'Ahmed-Nf6', 1881, 'e4,e5,Bc4,Nf6,Nf3,Nc6,O-O,d6,h3,Nxe4,d4,Nf6,dxe5,Nxe5,Nxe5,dxe5,Bxf7+,Ke7,Qxd8+,Kxd8,Nc3,Bd6,Bg5,Ke7,Bb3,Be6,f4,Bxb3,cxb3,exf4,Nd5+,Kf7,Nxf6,gxf6,Bxf4,Bxf4,Rxf4,Rhg8,Raf1,Rg6,h4,h5,Rc4,c6,Rb4,b6,Rd4,Re8,Rf5,Ke6,Rxh5,Reg8,Rd2,c5,a3,Rg4,Kh2,f5,Rd3,Kf6,g3,Kg6,Rg5+,Rxg5,hxg5,Kxg5,Rd7,f4,gxf4+,Kxf4,Rxa7,Kf3,Ra4,Kf2,Rc4', 'Rh8+,Rh4,Rxh4#', 'https://lichess.org/training/tHk2P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('thKNe', 'Rapid', 'NewPawnPlayer', 2023, 'jkoren', 1922, 'Nf3,d5,b3,c5,Bb2,Bf5,e3,h6,Bb5+,Nc6,Ne5,Qc7,Nc3,a6,Nxc6,bxc6,Bd3,Bd7,O-O,Nf6,f3,e5,e4,d4,Ne2,Bd6,c3,O-O,g3,Be6,cxd4,cxd4,Rc1,Qb6,Qc2,Rfc8,Qb1,Bb4,Rfd1,Qa5,Qc2,c5,a4,Qd8,Ra1,a5,Bb5,Ra7,Nc1,Rac7,Nd3,c4,Nxe5,cxb3,Qd3,Rc2,Nc6,R8xc6,Bxc6,Rxc6,Bxd4,Rd6,Bxf6,Qb6+,Qe3,Bc5,d4,gxf6', 'dxc5,Rxd1+,Rxd1', 'https://lichess.org/training/thKNe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('thLGo', 'Rapid', 'Madhav2222', 2015, 'robi1950', 2091, 'e4,c5,Bc4,d6,f4,e6,Nf3,Nf6,d3,Be7,c3,O-O,Nbd2,a6,a3,b5,Ba2,Bb7,Nf1,d5,e5,Nfd7,Ne3,f6,Ng4,fxe5,Ngxe5,Nxe5,Nxe5,Nd7,O-O,Nxe5,fxe5,Qc7,d4,cxd4,cxd4,Rac8,Bb1,Rxf1+,Kxf1,Qxc1', 'Bxh7+,Kxh7,Rxc1,Rxc1,Qxc1', 'https://lichess.org/training/thLGo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Thm5d', 'Rapid', 'frageno', 1855, 'manojpraba_champ', 1857, 'e4,e5,Nf3,Nf6,Nc3,d6,h3,Be6,d3,Nc6,Be2,Be7,O-O,O-O,Bg5,h6,Bxf6,Bxf6,Nd5,Nd4,Nxf6+,Qxf6,Nxd4,exd4,f4,c5,f5,Bd7,Bh5,Qd8,Qf3,g6,fxg6,fxg6,Qxf8+,Qxf8,Rxf8+,Rxf8,Bxg6,Be6,a3,b6,Rf1,Rxf1+,Kxf1,Kg7,Bh5,Kf6,Kf2,a5,Kf3,Kg5,Be8,Ba2,c3,dxc3,bxc3,Bb1,d4,Bc2,Bc6,Bd1+,Ke3,h5,g3,h4,g4,a4,e5,dxe5,dxe5,Bb3,Ke4,Be6,Bd5,Bd7,e6,Be8,Ke5,b5,Kd6,b4,cxb4,cxb4,axb4,a3,b5,Bxb5,e7,Be8,Bc6,Bg6,Bd5,Kf4,Kd7,Kg3,e8=Q,Bxe8+,Kxe8,Kxh3,Be6,Kg3,g5,h3,Bxh3', 'a2,Be6,a1=Q', 'https://lichess.org/training/Thm5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Thn7P', 'Rapid', 'borrom', 1848, 'Kryndon', 1774, 'Nf3,e6,c4,d5,cxd5,exd5,g3,a6,Bg2,c6,O-O,Nf6,d3,Bd6,Nbd2,O-O,a3,Nbd7,b4,a5,bxa5,Rxa5,Bb2,Qe7,e3,Bxa3,Bxa3,Rxa3,Rxa3,Qxa3,Qb1,Re8,d4,Ne4,Nxe4,Rxe4,Nd2,Re8,Rc1,Nf6,Nb3,g6,Nc5,b5,Nb3,Bf5,e4,Nxe4,Rxc6,Nc3,Qa1,Qxb3,Rxc3,Qb1+,Qxb1,Bxb1,Bxd5,Rd8,Rc5,Bd3,f4,Rb8,Kf2,b4,Ke3,Bf5,Bb3,Be6,d5,Bf5,Kd4,Kf8,Kc4,Ke7,Rb5', 'Bd3+,Kxd3,Rxb5', 'https://lichess.org/training/Thn7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tHnFR', 'Blitz', 'TheOneWithoutASoul', 1741, 'Aham-Brahmasmi369', 1777, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Be2,Ne7,Nc3,O-O,O-O,c6,h3,Bc7,g3,Bxh3,Re1,Ng6,Ng5,Bf5,Bg4,Bxg4,Qxg4,Qd7,Qh5,h6,Kg2,Re8,Bd2,hxg5,Rh1,Qf5,Bxg5,Nd7', 'Qh7+,Kf8,Qh8+,Nxh8,Rxh8#', 'https://lichess.org/training/tHnFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THOha', 'Rapid', 'forward11', 2192, 'bogdankukic', 1983, 'd4,d5,c4,dxc4,e3,c6,Bxc4,b5,Bd3,Bb7,Nf3,Nd7,O-O,a6,Nc3,g6,a3,Bg7,b4,e5,dxe5,Nxe5,Nxe5,Bxe5,Bb2,Qh4,g3,Qe7,f4,Bxc3,Bxc3,Qxe3+,Rf2,O-O-O,Bxh8,Rxd3,Qe1,f6,Qxe3,Rxe3,Kf1,Nh6,Re2,Rf3+,Ke1,Ng4,Rd1,Ne3,Rd6', 'Rf1+,Kd2,Nc4+', 'https://lichess.org/training/THOha');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('thokJ', 'Classical', 'Mazer_Muffin', 1654, 'AfricanChess', 1882, 'e4,Nc6,d4,d6,c4,g6,Nc3,Bg7,Be3,Nf6,h3,O-O,Nf3,Bd7,Be2,a6,O-O,Qc8,Rb1,Bxh3,gxh3,Qxh3,Ng5,Qh4,f4', 'Qg3+,Kh1,Qxe3', 'https://lichess.org/training/thokJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('thOTv', 'Rapid', 'sockoot', 1672, 'janisc', 1797, 'b3,e5,Bb2,d6,e3,Nc6,Nf3,Bg4,h3,Bxf3,Qxf3,Nf6,Bc4,Be7,Bb5,a6,Bxc6+,bxc6,Qxc6+,Nd7,d4,exd4,Bxd4,O-O,Qc3,Bf6,Bxf6,Nxf6,O-O,Rc8,Na3,d5,Rfd1,c6,Qd3,Qb6,c4,h6,cxd5,Nxd5,Nc4,Qc7,Rd2,Rfd8,Rad1,Nb4,Qc3,c5,Rxd8+,Rxd8,Rxd8+,Qxd8,a3,Qd1+,Kh2,Nd3,Qa5,Nxf2,Qxc5', 'Qh1+,Kg3,Ne4+,Kf4,Nxc5', 'https://lichess.org/training/thOTv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Thp75', 'Blitz', 'Andrei1966', 2191, 'IM ChessExplained', 2552, 'e4,c5,f4,d5,e5,Nc6,Nf3,Nh6,d3,Bg4,Be2,Nf5,c3,e6,b3,Be7,O-O,h5,Qe1,h4,Bd1,h3,g3,d4,c4,Qd7,Nbd2,Ne3,Rf2,Nb4,Ne4,Nxd3,Qe2,Nxc1,Rxc1,Qc6,Qd3,Bf5,Nfd2,f6,Bf3,Qb6,exf6,gxf6,Re1,O-O-O,Nf1,Ng4,Rfe2,e5', 'Nd6+,Bxd6,Qxf5+', 'https://lichess.org/training/Thp75');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('thPYu', 'Blitz', 'lilliputrooks', 1752, 'aghakian', 1979, 'e4,c6,d4,d5,f3,a6,c4,Nf6,Nc3,dxe4,Nxe4,e6,Bg5,Be7,c5,O-O,Bc4,Nbd7,Nh3,Nd5,Bxe7,Qxe7,Nd6,b5,Bxd5,exd5+,Qe2,Qf6,O-O-O,a5,Rhe1,Ba6,Qe7,Qh6+,Qe3,Qg6,Nf4,Qf6,g3,Rab8,Qe7,Qh6,Qe3,Qxh2,Rh1,Qxg3,Qd3,g6,Rxh7,Kxh7,Rh1+,Kg7,Qe3,Nf6,Ne6+,fxe6', 'Qh6+,Kg8,Qh8#', 'https://lichess.org/training/thPYu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tHr9Q', 'Blitz', 'Amon_Sul', 2059, 'e-player', 2096, 'd4,d5,Nc3,e6,Bf4,f5,e3,Nf6,Nb5,Na6,c3,c6,Na3,Bxa3,bxa3,Nc7,Nf3,O-O,Ne5,Nd7,Bd3,Ne8,Qf3,Nef6,Qg3,Qe8,Bg5,Nxe5,dxe5,Ne4,Bxe4,fxe4,f4,exf3,gxf3,Qh5,f4,Bd7,Kd2,Be8,Rab1,Bg6,Rxb7,Rab8,Rhb1,Bxb1,Rxa7,Be4,Rxg7+,Kxg7', 'Bf6+,Kf7,Qg7+,Ke8,Qe7#', 'https://lichess.org/training/tHr9Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THs89', 'Rapid', 'mesquitha', 1932, 'BeastofBenin', 1936, 'd4,Nf6,Bf4,d5,e3,e6,Bd3,c5,Nc3,cxd4,exd4,Bd6,Bg3,Bxg3,hxg3,Nc6,Nf3,Qc7,Nb5,Qa5+,c3,a6,Nd6+,Ke7,Nxc8+,Raxc8,Qe2,g6,Ne5,Qc7,f4,b5,g4,Nd7,f5,Ndxe5,dxe5,Nxe5,fxg6,hxg6,Rf1,Nxd3+,Qxd3,Qe5+,Kd2,Rhg8,Rae1,Qg5+,Re3,Kd7,Rxf7+,Kd6,Qd4,e5,Qb6+,Rc6,Qb7,d4,Qd7+,Kc5,cxd4+,exd4,Qa7+,Kc4,b3+,Kd5,Rd7+,Rd6,Qb7+,Kc5,Rc7+', 'Kb4,Rc4+,Ka3', 'https://lichess.org/training/THs89');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THtFM', 'Rapid', 'woopwoopwoop', 1856, 'gambit9', 1913, 'e4,c5,Nc3,e6,Nf3,Nc6,d4,cxd4,Nxd4,Bc5,Nxc6,bxc6,Be2,Qc7,O-O,Nf6,Bg5,Be7,f4,h6,Bxf6,Bxf6,e5,Be7,Kh1,O-O,Bd3,d5,Ne2,c5,c4,Bb7,Ng3,Rad8,Qg4,Kh8,b3,dxc4,Bxc4,Rd2,Rg1,Qc6,Qh3,Qd7,a4,Qd4,Rae1,Qxf4,Nh5,Qh4,Qxh4,Bxh4,Rd1,Rb2,Nf4,Bf2,Rgf1,Kg8', 'Nd3,Bd4,Nxb2', 'https://lichess.org/training/THtFM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ThuH2', 'Rapid', 'IPETROV1234567', 1858, 'DDDBBB', 1805, 'e4,d6,Nf3,e5,Nc3,Nf6,d4,exd4,Nxd4,Nc6,Bg5,Be7,Qd2,h6,Bh4,Ng4,Bxe7,Nxe7,f3,Ne5,O-O-O,N5c6,Bb5,O-O,g4,Ne5,h4,c5,Nf5,Nxf5,exf5,Nxf3,Qxd6,Qxd6,Rxd6,b6', 'Bc6,Rb8,Bxf3', 'https://lichess.org/training/ThuH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THUtA', 'Classical', 'Evg66', 1640, 'AlexRomero_2211', 1650, 'e3,c5,Be2,Nc6,Nc3,Nf6,b3,e5,Bb2,Be7,Nf3,O-O,O-O,d5,h3,e4,Nh2,Be6,f3,exf3,Bxf3,Ne5,d4,Nc6,e4,Nxd4,exd5,Nxd5', 'Bxd5,Bxd5,Nxd5,Qxd5,c3,Rad8,cxd4', 'https://lichess.org/training/THUtA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THv0h', 'Rapid', 'Mikhail_Legonkov', 1732, 'pp__1972', 1620, 'e4,d5,exd5,Nf6,d4,Bg4,f3,Bf5,Nc3,Nxd5,Nge2,e6,Nxd5,exd5,Ng3,Bg6,Bd3,Bd6,Nf5,Bxf5,Bxf5,Qh4+,Kf1,O-O,c3,Qe7,Qc2,g6,Bh3,Re8,Bh6,Nd7,g3,Rad8,Kf2,Qf6,Rhe1,Rxe1,Rxe1,Nf8,Qe2,g5,Bxf8,Kxf8,Qe3,b6,Bd7,Rxd7,Qe8+,Kg7,Qxd7,c5,Qxa7,cxd4,Qxb6', 'Bxg3+,Kxg3,Qxb6', 'https://lichess.org/training/THv0h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('thWOz', 'Bullet', 'Otoum', 1609, 'solo_lucky', 1603, 'e4,c5,f4,e6,Nf3,Nc6,a3,a6,Bc4,b5,Ba2,c4,b3,cxb3,Bxb3,g6,Bb2,Nf6,d3,Bg7,O-O,O-O,Nbd2,Qb6+,Kh1,Qb8,e5,Nh5,g3,a5,Qe2,a4,Ba2,Bb7,Ne4,Nd8,Nf6+,Bxf6,exf6,Bxf3+,Rxf3,d5,g4,Nxf4,Rxf4,Qxf4,Rf1,Qh6,Bc1,Qh4,Qg2,Nc6,Bd2,Nd4,Be1,Qh6,g5,Qh5,c3,Ne2,Bb1,Rac8,Bc2,Rxc3,Bd1,Rxd3,Bxe2,Qh3,Bxd3,Qxd3,Rf3,Qe4,Bf2,Rc8,Qh3,Rc1+,Bg1,Qe1,Rg3,Qe4+,Rg2,d4,Qh6', 'Rxg1+,Kxg1,Qe1#', 'https://lichess.org/training/thWOz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Thxrt', 'Rapid', 'ema800', 1922, 'hamed481', 2059, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng5,h6,N5f3,Nf6,Bc4,e6,Ne2,Nbd7,Ng3,Bh7,O-O,Bd6,Re1,O-O,c3,Qc7,Bd3,Bxd3,Qxd3,Nd5,a3,Rad8,Qc2,Rfe8,Ne4,Bf8,c4,N5f6,Be3,Nxe4,Qxe4,Nf6,Qh4,Be7,Rad1,Nd5,Qg4,Nxe3,fxe3,c5,Kh1,cxd4,Rxd4,Rxd4,Qxd4,Bf6,Qxa7,Qxc4,Qxb7,Qc2,Nd4,Qf2,Qb4,Rd8,Qa5,Rd5,Qc3,Rg5,Rg1,g6,Qc8+,Kg7,Qc1,Rh5,Nf3,Be5,Nxe5', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/Thxrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THY30', 'Rapid', 'gguido', 1616, 'khalafzadehali1341', 1639, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,b5,Be3,Bb7,Qd2,e6,O-O-O,Qc7,Rhg1,g6,f3,Bg7,g4,Nc6,h4,Nxd4,Bxd4,e5,Be3,O-O-O,Kb1,Kb8,h5,Rc8,h6,Bf8,Bg5,Nd7,Be2,f6,Be3,g5,Nd5,Bxd5,Qxd5', 'Qxc2+,Ka1,Qxe2', 'https://lichess.org/training/THY30');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THYgs', 'Classical', 'hsynky', 1608, 'SeeMeCry', 1811, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,Nf3,Nc6,d5,Nxe5,Nxe5,dxe5,Nc3,e6,Be2,Bb4,Bf3,Nxc4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/THYgs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tHYoO', 'Rapid', 'Cyangiraffe', 1544, 'cayverla', 1546, 'e4,e5,Nf3,Bc5,c4,Bxf2+,Kxf2,Nf6,d3,Ng4+,Kg1,d6,h3,h5,hxg4,Bxg4,Be2,c6,Nc3,Qb6+,Kf1,Nd7,Ng5,f6,Bxg4,fxg5,Bxh5+,Ke7,Bxg5+,Ke6,Bg4+,Kf7,Bh5+,g6,Qf3+,Kg7,Bg4', 'Rxh1+,Ke2,Qxb2+,Bd2,Qxa1', 'https://lichess.org/training/tHYoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('THyw3', 'Blitz', 'Stupnikov', 2182, 'Imstabelum', 2200, 'e4,d5,e5,c5,f4,Nc6,Nf3,Bg4,Bb5,e6,Bxc6+,bxc6,O-O,Ne7,d3,Nf5,h3,Bxf3,Qxf3,Be7,Nc3,O-O,Ne2,Bh4,g3,Be7,Kh2,Nd4,Nxd4,cxd4,b3,c5,a4,a5,Ba3,Rb8,Rae1,Qc7,f5,Rfd8,f6,gxf6,exf6,Bf8,Qh5,h6,Rf4,Kh7,Re5,Bd6,Rg5,Rg8,Rh4', 'Bxg3+,Kh1,Bxh4,Rxg8,Rxg8', 'https://lichess.org/training/THyw3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ti0vi', 'Blitz', 'irfan72G', 1968, 'joaozinhogibi', 1925, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,b6,Nf3,Bb7,Bd3,Nd7,O-O,Be7,c3,Ngf6,Re1,O-O,Bf4,Rc8,Qa4,a5,Rad1,h6,Ne5,Nxe5,Bxe5,Nxe4,Bxe4,Bxe4,Rxe4,f6,Bg3,Qd5,Rde1,Bd6,Rxe6,Bxg3,hxg3,b5,Qxa5,c6,Qb6,Kh7,a3,h5,Qb7,Kg6,Re7,Rg8,Qd7,Qc4,Qe6,Qd3,Qf7+,Kh6,Qe6,Qg6,Qe3+,Kh7,Qf3,c5,d5,Rcd8,Rd1,Kh8,d6,Rge8,Rxe8+,Rxe8,d7,Rd8,Qc6,Qf7,Qxb5,Qe7,a4,g6,a5,Kg7,a6,g5,Qb7,Qe2,Rd5,Qe1+,Kh2,h4,Qc7,hxg3+,fxg3,Qe7,Qxc5', 'Rh8+,Kg1,Qe1#', 'https://lichess.org/training/ti0vi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TI0Wc', 'Blitz', 'egeemek34', 2062, 'sebsoch', 2040, 'd4,e6,e3,d5,f4,c5,c3,Nc6,Nf3,b6,Bd3,Bb7,O-O,Be7,Ne5,f6,Nxc6,Bxc6,Qg4,Kf7,f5,e5,dxe5,fxe5,f6,Nxf6,Qe2,Rf8,e4,d4,cxd4,cxd4,Bc4+,Ke8,Bb5,Qd7,Bxc6,Qxc6,Bd2,Qxe4,Qb5+,Kf7,Bg5,Kg8,Bxf6,Rxf6,Na3,Rg6,g3,Bg5,Qb3+,Kh8,Nc2,d3,Qf7,Rg8,Rf3,dxc2,Raf1,c1=Q', 'Qxg8+,Kxg8,Rf8#', 'https://lichess.org/training/TI0Wc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tI0wM', 'Rapid', 'Amergoal', 1753, 'itf123', 1750, 'd4,d5,Nc3,Nf6,Bg5,Nc6,e3,h6,Bh4,Bf5,h3,e6,a3,Be7,Bg3,O-O,Nb5,Rc8,c4,a6,Nc3,dxc4,Bxc4,Bd6,Bxd6,cxd6,Bd3,Bg6,Bxg6,fxg6,Nf3,d5,O-O,Rf7,Qd3,Kh7,Nh4,Ne7,Nf3,Nc6,Na4,Ne4,Nd2,Nd6,Nc5,Qe7,Rac1,Qe8,f3,Nb8,Qb3,Rfc7,Rce1,Nd7,Nxd7,Qxd7,Qd3,Rc2,Rb1,Nc4,Nxc4,R8xc4,b3,R4c3,Qd1,Qb5,a4,Qb4,e4,dxe4,fxe4,Qd6,e5,Qd5,Rf2,Rxf2,Kxf2,Qe4,Kg1,Rc2,Qf1,Qxd4+,Kh1,Qxe5,Re1,Qd6,Qf3,Qd5,Qg3,Rb2,Re3,g5,Re5,Qxb3,Qg4,Qd3,Rxe6,Rb1+,Kh2,Qf1,Qe4+,Kg8,Re8+,Kf7,Re7+,Kf8', 'Re8+,Kf7,Qe6#', 'https://lichess.org/training/tI0wM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TI12y', 'Rapid', 'gib_nt', 1869, 'ifekali', 1813, 'e4,d6,Nf3,Nf6,Nc3,Nbd7,Bc4,h6,d4,e5,h3,Be7,Be3,c6,dxe5,dxe5,Qd2,b5,Bb3,b4,Ne2,Nxe4,Qd3,Nef6,Qc4,Nd5,Qxc6,Nxe3,Qxa8,Nxg2+,Kf1,Nf4,Nxf4', 'Ba6+,Ke1,Qxa8', 'https://lichess.org/training/TI12y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TI1QU', 'Rapid', 'COLLO8348', 1839, 'Jacobanyang', 1867, 'd4,Nf6,c4,d5,c5,Bg4,h3,Bh5,Nf3,c6,Bg5,Ne4,Bf4,Qa5+,Nbd2,Nd7,e3,Bxf3,gxf3,Nxd2,Qxd2,Qxd2+,Kxd2,e6,Bd3,Be7,Rhg1,O-O,Rg2,f5,Bh6,Bf6,Rag1,Rf7,f4,Kh8,Bg5,Bxg5,Rxg5,g6,h4,b6,cxb6,Nxb6,h5,gxh5,Rxh5,Na4,Kc2,Rb8,b3,Nb6,Rh6,Re7,Bf1,a5,Be2,a4,Bh5,axb3+,axb3,Rg8,Rxg8+,Kxg8,b4', 'Kg7,Rxh7+,Kxh7', 'https://lichess.org/training/TI1QU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TI24W', 'Rapid', 'Gramotno', 1836, 'Ferthom', 1848, 'e4,e5,Nf3,Nc6,Bb5,Nge7,Nc3,Ng6,O-O,a6,Ba4,Bc5,h3,b5,Bb3,Na5,d4,exd4,Nxd4,Nxb3,Nxb3,Ba7,Qd5,c6,Qd6,Qe7,Qxe7+,Kxe7,Kh1,d6,f4,f5,Bd2,Re8,Rae1,Kf7,Be3,Bxe3,Rxe3,Kf6,Nd4,c5,Nd5+,Kf7,Nb3,Rxe4,Rxe4,fxe4,Nd2,Bb7,Nc3,d5,f5,Ne5,Ne2,e3,Nb3,Rc8,Kh2,Nc4,Rb1,a5,Nbc1,d4,Nd3,Nd2,Rd1,c4,Ne5+,Kf6,Nd7+,Kxf5,Nxd4+,Ke4,c3,Rd8', 'Nc5+,Ke5,Nxb7,Rxd4,cxd4+', 'https://lichess.org/training/TI24W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tI29b', 'Classical', 'mmahmaddaeel', 2048, 'fromtiltedtotitled', 2064, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Be3,e5,Nc3,Bb4,Be2,exd4,Nxd4,Bxe2,Nxe2,Qxg2,Rg1,Qxh2,Qd3,Rd8,Qe4+,Qe5,Qxe5+,Nxe5,Rxg7,Kf8,Rg3,Ne7', 'Bh6+,Ke8,Bg7', 'https://lichess.org/training/tI29b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ti3Da', 'Blitz', 'fouadkh', 1604, 'Ammar97', 1664, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,a6,Ba4,Nge7,O-O,O-O,d4,exd4,cxd4,Bb6,Nc3,d6,h3,h6,d5,Ne5,Nxe5,dxe5,Qf3,Ng6,Be3,Bxe3,fxe3,b5,Bb3,b4,Ne2,c5,dxc6,Qb6,Bxf7+,Rxf7,Qxf7+,Kh8,Qxg6,Qxe3+,Kh1,Bxh3,Rf8+,Rxf8,Ng1,Bc8,Nf3,Qb6,Nxe5,Kg8,Rd1,Qb5,Ng4,Qe2,Nxh6+,Kh8,Nf7+,Rxf7', 'Rd8+,Rf8,Rxf8#', 'https://lichess.org/training/ti3Da');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tI3nI', 'Classical', 'Springeropfer65', 2111, 'RagieLLL_Z7', 2071, 'd4,d5,Nf3,Nc6,e3,Bg4,c4,e6,Nc3,Nf6,h3,Bxf3,Qxf3,Bb4,a3,Bxc3+,bxc3,dxc4,Bxc4,Na5,Bd3,Nb3,Rb1,Nxc1,Rxc1,Rb8,O-O,O-O,c4,c5,Rfd1,cxd4,exd4,Qa5,Bb1,h6,c5,Rfd8,g4,Rd5,h4,h5,g5,Ng4,Qe4,Rf5,f3,Qc7,fxg4', 'Qg3+,Qg2,Qe3+,Kh2,Rf2', 'https://lichess.org/training/tI3nI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TI48L', 'Rapid', 'BeRNI17103', 1963, 'MaheBourdonnaie', 1917, 'e3,e5,Nc3,Nf6,Nge2,Nc6,d4,exd4,exd4,d5,Bg5,Be7,Qd2,O-O,O-O-O,Bf5,h4,h5,Kb1,Qd7,Nf4,Ne4,Nxe4,Bxe4,Bb5,Bxg5,hxg5,g6,f3,Bf5,Rdg1,Rfe8,g4,hxg4,fxg4,Bxg4,Rh6,Kg7,Rgh1,Rh8,Qh2,Qd8,Rh7+,Rxh7,Qxh7+,Kf8,Re1,Ne7,Qh8+,Ng8,Re8+,Qxe8,Bxe8,Rxe8,b3,c6,Kb2,Re4,Nd3,Bf5,Nc5,b6,Nd3,Rg4,Ne5,Rxg5,Qh7,Be6,Nxc6', 'Rh5,Qxh5,gxh5', 'https://lichess.org/training/TI48L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ti4rm', 'Rapid', 'Ironman777', 1764, 'ElAtrida', 1830, 'e4,c5,Qf3,e6,Bb5,a6,Ba4,b5,e5,Nc6,Bxb5,axb5,Nc3,b4,Nb5,Ba6,Nd6+,Bxd6,exd6,Nf6,d3,Qa5,Nh3,b3+,c3,Ne5,Qxa8+,Qd8,Qxd8+,Kxd8,O-O,Kc8,Rd1,Nxd3,axb3,Kb7,c4,Nb4,Bd2,Nd3,Ra3,Nxb2,Rda1,Ra8,Bc3,Nd3,Ng5,Ne4,Nxe4,f5,Nxc5+,Nxc5,b4,Ne4,Bd4,Nxd6,b5,Nxc4,Rxa6,Rxa6,bxa6+,Ka8,a7,Nd6,Rb1,Nb7,Rc1,Nd6,Bc5,Nb5,Ra1,d6,Bb6,d5,Ra5,Nd6,Rc5,d4,Rc7,e5,Rxg7,d3,Rg8+,Kb7,a8=Q+,Kxb6,Qb8+,Kc5,Kf1,Nc4,Rc8+,Kd4,Rd8+,Ke4,f3+,Ke3,Qa7+,Kd2,Qf2+,Kc3,Rc8,Kb4,Ke1,f4,Rb8+,Kc3,Qa2,d2+,Kd1', 'Ne3+,Ke2,d1=Q+,Kf2,Qf1#', 'https://lichess.org/training/Ti4rm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ti5JQ', 'Rapid', 'EmAV17', 2222, 'sirenrises', 2100, 'c4,e5,Nf3,Nc6,g3,e4,Ng1,d5,cxd5,Qxd5,Bg2,Bf5,Nc3,Qe6,e3,O-O-O,Nge2,Nf6,O-O,g6,Nf4,Qd7,Qa4,g5,Nfe2,Bh3,Nxe4,Bxg2,Kxg2,Nxe4,Qxe4,Re8,Qf3,Ne5,Qh5,g4,e4,Nd3,Nc3,Re5,Qh4,Be7,Qh6,Re6,Qg7,Rf8,Qxg4,f5,exf5,Re5,f3,Rexf5,Qa4,c6,Qxa7,Rh5,h4,Rxh4,gxh4,Nf4+,Kf2,Bxh4+,Ke3', 'Qd3#', 'https://lichess.org/training/ti5JQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ti6Rw', 'Blitz', 'Assault_Infantryman', 2245, 'FM A-Mo-A', 2318, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,Nf3,Be7,e3,Nbd7,Be2,h6,Bf4,a6,cxd5,exd5,O-O,O-O,Qb3,Re8,Rac1,Nf8,Na4,Ng6,Bg3,Bd6,Nc5,Bxc5,Rxc5,Ne4,Rc2,Nxg3,hxg3,Qe7,Bd3,Nf8,Re1,Bg4,Ne5,Bh5,a4,f6,Nf3,Bxf3,gxf3,Ne6,Bg6', 'Nxd4,exd4,Qxe1+', 'https://lichess.org/training/Ti6Rw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TI8RB', 'Rapid', 'prej7', 1906, 'stalemate_tilt', 2071, 'c4,c6,Nc3,d5,e3,Nf6,d4,a6,Nf3,dxc4,Bxc4,e6,O-O,b5,Be2,c5,a4,cxd4,Nxd4,b4,Na2,Bb7,Bd2,a5,Bb5+,Nbd7,Qe2,Be7,e4,Bxe4,Bg5,Bb7,Rad1,O-O,Bxf6,Bxf6,Nc6,Qc7', 'Ne7+,Bxe7,Rxd7,Qb6,Rxe7', 'https://lichess.org/training/TI8RB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ti9cu', 'Blitz', 'yosewa', 1681, 'JOSEAN10000', 1603, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Be2,Nc6,Be3,Bd6,Nbd2,Nf6,h3,Bxf3,Bxf3,Qd7,O-O,O-O-O,Bg5,h6,Bxf6,gxf6,c3,Rhg8,Kh1,Rg5,Qb3,Rdg8,Rg1,Ne7,Nf1', 'Qxh3+,gxh3,Rxg1#', 'https://lichess.org/training/Ti9cu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tibvn', 'Blitz', 'Fishfisher', 1952, 'JOHNWICK24', 1937, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Qc7,Bc4,e6,Bb3,Bd6,h3,Ba6,Qf3,Be5,Bg5,O-O,Rb1,d5,Bxf6,Bxf6,Ne2,c5,c3,d4,O-O,d3,Ng3,c4,Bd1,Rab8,Qg4,Bxc3,Nh5,Bd4,Bf3,Qe5,Nf4,f5,exf5,exf5,Qg5,Bxb2,Bd5+,Kh8', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/tibvn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tiCby', 'Rapid', 'forna_a', 1831, 'terjer', 1730, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Be2,a6,Na3,b5,Naxb5,axb5,Bxb5,Bd7,O-O,Nd4,Bxd7+,Qxd7,Be3,Ne6,Nd5,Be7,Nb6,Qa4,Nxa8,Qxa8,f3,O-O,Kh1,Rc8,c3,Qb7,Qc2,d5,exd5,Nxd5,Bf2,Bc5,Qe4,Qxb2,Rab1,Qxc3,Rbc1,Qa3,Bxc5,Rxc5,Rxc5,Qxc5,Qxe5,Qc4,Rd1,Ne7,h3,Qxa2,Qb8+,Nf8', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/tiCby');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tIDIv', 'Rapid', 'safi8888', 1933, 'Templanza16', 2045, 'e4,c6,d4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,c3,Nc6,Ne2,Nf6,Bg5,b5,Bxf6,gxf6,Nd2,a5,a4,b4,b3,bxc3,Nxc3,Nxd4,Nb5,Nxb5,axb5,Qxb5,Qf3,Bg7,h4,O-O,h5,e5', 'h6,Bxh6,Rxh6', 'https://lichess.org/training/tIDIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tidXs', 'Rapid', 'VrumVrum', 1927, 'Ferboro', 1923, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Nxe4,Nxe4,d5,Bxd5,Qxd5,Nc3,Qd8,O-O,Bb4,d3,Bxc3,bxc3,O-O,Re1,Re8,h3,h6,Be3,Bf5,Qd2,e4,dxe4,Qxd2,Bxd2,Rxe4,Be3,Rc4,Bd4,Nxd4,cxd4,Rxc2,Re7,Rc8,Ne5,Be6,Nd7,Rd8,Nc5,Kf8,Rxc7,Rxd4', 'Nxe6+,fxe6,Rxc2', 'https://lichess.org/training/tidXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tied3', 'Rapid', 'LUC1971', 1858, 'kamel22', 1780, 'e4,c5,d4,cxd4,c3,Nc6,cxd4,e6,d5,exd5,exd5,Nce7,d6,Nf5,Qe2+,Nfe7,dxe7,Bxe7,Bg5,Nf6,Bxf6,gxf6,g3,d5,Bg2,O-O,Nf3,Bb4+,Nbd2', 'Re8,Qxe8+,Qxe8+', 'https://lichess.org/training/tied3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tif5t', 'Rapid', 'GerryKasparov', 1953, 'undenied', 1914, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Be3,Nf6,Be2,Bb4,f3,d5,e5,Nxe5,O-O,O-O,Na4,Nc6,Nxc6,bxc6,Nc5,Bxc5,Bxc5,Re8,Qe1,Qc7,Qh4,e5,Rfe1,Rb8,b3,e4,a4,a5,fxe4,Nxe4,Bd3,Bf5,Be3,Bg6,Bxe4,Rxe4,Qf2,Rbe8,Bf4,Rxe1+,Rxe1,Rxe1+,Qxe1,Qd7,Qxa5,h5,Qd2,Qf5,a5,Qxc2', 'Qxc2,Bxc2,a6', 'https://lichess.org/training/Tif5t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tIFFi', 'Blitz', 'ruarmo2000', 1671, 'TrifanAI', 1744, 'Nf3,c5,g3,Nc6,Bg2,d5,d4,c4,Nc3,Nf6,O-O,a6,a3,Bg4,Ne5,Bd7,e4,Nxe5,dxe5,Nxe4,Nxd5,Nc5,Be3,e6,Bxc5,Bxc5,Ne3,Bxe3,fxe3,Rb8,Qd4,Bb5,a4,Bc6,Bxc6+,bxc6,Qxc4,O-O,Rad1,Qc7,Qxa6,Rxb2,c4,Qxe5,Qxc6,Qxe3+,Kh1,Rb6,Qc7,Qe4+,Kg1,Rc6', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/tIFFi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TIfYW', 'Blitz', 'Mayusa', 2227, 'StranacJug', 2396, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c4,b4,Nc2,a5,Bd3,Bg5,b3,O-O,h4,Bh6,g4,Bf4,Qf3,Be6,Nxf4,exf4,Qxf4,Ne5,Be2,a4,Rd1,axb3,axb3,Qb6,O-O,Ra2,Rd2,Rfa8,Rfd1,Ng6,Qxd6', 'Qxd6,Rxd6,Rxc2,Rd8+,Rxd8', 'https://lichess.org/training/TIfYW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tIg6o', 'Blitz', 'Work2mevdjsd', 1686, 'icarosroberto', 1642, 'd4,Nf6,e3,e6,f4,d5,c3,c5,Bd3,Nc6,Nd2,a6,Ngf3,Bd6,Ne5,Qc7,Nxc6,bxc6,O-O,cxd4,cxd4,c5,Nf3,cxd4,Nxd4,Bb7,g3,O-O,Bd2,Qb6,Bc3,Rac8,h3,Bb4,Qd2,Bxc3,bxc3,Nd7,Rfb1,Qc7,Ne2,Nc5,Rb4,Nxd3,Qxd3,a5,Rb2,Ra8,Rc2,Ba6,Qd2,Bc4,Nd4,e5,Ne2,exf4,exf4,Rfe8,Nd4,Qc5,Kh2,Re2+,Nxe2,Qf2+,Kh1,d4,Nxd4', 'Bd5+,Nf3,Bxf3#', 'https://lichess.org/training/tIg6o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tigsm', 'Rapid', 'juancarlito', 2263, 'Secondeater', 2292, 'd4,Nf6,Bg5,Ne4,Bh4,d5,Nd2,g6,e3,Bg7,Bd3,Nxd2,Qxd2,Nd7,f4,f5,Nf3,c6,c4,Nb6,b3,Be6,c5,Nd7,Rc1,O-O,Ng5,Bf7,Nxf7,Rxf7,h3,Nf6,Bxf6,exf6,g4,fxg4,hxg4,Qe7,Rh3,Re8,Qh2,Qd7,Kd2,Qxg4,Rg1,Qe6,Rgg3,f5,Rxh7,Rfe7,Rhh3,Bxd4,exd4', 'Qe1+,Kc2,Re2+,Qxe2,Rxe2+,Bxe2,Qxe2+', 'https://lichess.org/training/Tigsm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tIh1K', 'Blitz', 'ronjayopilas', 2112, 'roquemaspoli', 2238, 'Nc3,e6,e4,d5,d4,Bb4,exd5,Qxd5,Bd3,b6,Bd2,Bxc3,bxc3,Qxg2,Qf3,Bb7,Bb5+,Nd7,Bxd7+,Kxd7,Qxf7+,Ne7,O-O-O,Qxh1,Bg5,Rhe8,Re1,Qd5,Nf3,Qxf3', 'Qxe6+,Kd8,Bxe7+,Rxe7,Qxe7+,Kc8,Qe8#', 'https://lichess.org/training/tIh1K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tIh2k', 'Rapid', 'terminator5158', 1721, 'bolid_vova', 1641, 'd4,d5,Bg5,h6,Bh4,g5,Bg3,Nf6,Nd2,e6,e3,c5,Ngf3,Qb6,Qc1,Nbd7,dxc5,Bxc5,Nb3,Bb4+,c3,Bd6,Bxd6,Qxd6,Bd3,Ng4,h3,Nge5,Be2,Nxf3+,Bxf3,Ne5,Be2,b6,Qd2,O-O,e4,Bb7,O-O-O,a5,h4,f6,hxg5,hxg5,f4,Nf7,fxg5,Nxg5,exd5,Qxd5,Qf4,Qxg2,Bc4,Qxh1,Rxh1,Bxh1,Nd4,Bd5,Bxd5,exd5,Qd6,Rae8,Qxd5+,Kg7,Nf5+,Kg6,Qd3,Re1+,Kc2,Rfe8,Nd6+,R8e4,Nxe4,Rxe4,c4,f5,a3,f4,Qd6+,Kh5,Qxb6,f3,Qxa5,f2,Qf5,Re2+,Kb3', 'Re3+,Ka2,Rf3', 'https://lichess.org/training/tIh2k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TihqR', 'Rapid', 'GhengisKhan', 1940, 'krzysiekstasilas', 1953, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nf3,Bc5,a3,Qe7,Be2,Bxc4,Qa4+,Nc6,Qxc4,O-O-O,O-O,Na5,Qa4,Bb6,Re1,Qc5,Rf1,Nc6,b4,Qf5,Nc3,Nd4,Nxd4,Rxd4,Nb5,Rf4,Bf3,Rxf3,gxf3,Qxf3,Qd1', 'Bxf2+,Rxf2,Qxd1+', 'https://lichess.org/training/TihqR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tihth', 'Rapid', 'K-vent', 2097, 'KingSmegma', 2170, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be3,Bb4,Nxc6,bxc6,Qd3,Qa5,Bd2,d5,e5,Nd7,f4,Nc5,Qg3,O-O,Bd3,g6,O-O,d4,a3,Bxc3,Bxc3,dxc3,b4,Qb6,bxc5,Qxc5+,Kh1,Rb8,h4,Kh8,h5,Qe7,h6,f6,exf6,Qxf6', 'f5,gxf5,Qxb8', 'https://lichess.org/training/tihth');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tiIAX', 'Bullet', 'Abaloai', 1704, 'harleyk', 1697, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Be3,Bd6,Bd3,O-O,Qd2,Re8,h4,c6,O-O-O,b5,h5,h6,Nf3,a5,Bxh6,gxh6,Qxh6,a4,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/tiIAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TIJIh', 'Rapid', 'iiAlex', 1859, 'OAA2', 1809, 'e4,d5,e5,f6,d4,fxe5,dxe5,Bf5,Nf3,e6,c4,Nc6,cxd5,Qxd5,Qxd5,exd5,Bb5,Bb4+,Bd2,Bxd2+,Nbxd2,Ne7,O-O,O-O-O,Nh4,Nxe5,Nxf5,Nxf5,Rfe1,Nf7,Rad1,c6,Bd3,N7d6,Re6,g6,Nf3,Rde8,Rde1,Rxe6,Rxe6,Re8', 'Bxf5,Rxe6,Bxe6+', 'https://lichess.org/training/TIJIh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tIKEf', 'Rapid', 'ILoseEveryGame1', 1723, 'Donny1991', 1779, 'e4,e5,Nf3,Nc6,Nc3,Bb4,Bb5,d6,d3,Nf6,O-O,Bd7,Bd2,O-O,a3,Ba5,b4,Bb6,Nd5,Nxd5,exd5,Ne7,Bxd7,Qxd7,c4,c6,Be3,Bxe3,fxe3,cxd5,cxd5,Nxd5,d4,Nxe3,Qe2,Nxf1,Rxf1,exd4,Nxd4,Rfe8,Qf3,Re7,Nf5,Re5,Qg4,g6', 'Nh6+,Kg7,Qxd7', 'https://lichess.org/training/tIKEf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tilRS', 'Rapid', 'CheckYaSkillz', 1952, 'Noshir', 2014, 'b3,Nf6,Bb2,e6,e3,b6,Qf3,Nc6,g4,Bb7,Qg2,h6,f3,Bb4,Na3,Qe7,Nb1,O-O-O,a3,Bd6,Nc3,Ne5,h3,h5,g5,Nd5,Nb5,a6,Nxd6+,Qxd6,c4,Ne7,O-O-O,Nd3+,Kc2,Nxb2,Kxb2,f6,h4,fxg5,Qxg5,Nf5,Rh3,Rdf8,d4,c5,Rd3,cxd4,exd4,Ne7', 'c5,Qf4,Qxe7', 'https://lichess.org/training/tilRS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tilRt', 'Blitz', 'Shtykov_Maxim', 2425, 'IM KaiyrbekovRustam010', 2476, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Nxe5,Rxe5+,Be7,Bf1,O-O,d4,Bf6,Re1,Nf5,c3,d5,Nd2,Nh4,g3,Ng6,Bg2,c6,Nf3,Bg4,h3,Bf5,b3,Qd6,a4,Rfe8,Ba3,Qd7,Qd2,Bxh3,a5,Bxg2,Kxg2,a6,Rh1,Qf5,Rh3,Re6,Rah1,h6,Nh2,Qe4+,Nf3,Be7,Bxe7,Nxe7,Rh4,Qe2,Qc1,Rf6,Rf4,Rxf4,Qxf4,Ng6,Qc7,Re8', 'Re1,Qxe1,Nxe1', 'https://lichess.org/training/tilRt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tiM6S', 'Classical', 'ptrkk', 1767, 'Demetrio65', 1610, 'd4,Nf6,c4,d5,Nc3,g6,Bf4,c5,e3,Bg7,dxc5,O-O,cxd5,Nh5,Bg3,Nxg3,hxg3,Qa5,Qb3,Qxc5,Nf3,Nd7,Rc1,Nb6,e4,e6,Be2,exd5,exd5,Bd7,O-O,Qd6,Rfd1,Rfe8,Bf1,Rac8,Nb5,Bxb5,Qxb5,Rxc1', 'Qxe8+,Qf8,Qxf8+,Bxf8,Rxc1', 'https://lichess.org/training/tiM6S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Timla', 'Rapid', 'cacolac', 1982, 'M192053', 2113, 'e4,e5,Nf3,Nc6,Be2,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Bd2,Nf6,Bxb4,Nxb4,Qa4+,Nc6,d5,Bd7,dxc6,Bxc6,Qd1,Nxe4,O-O,O-O,Nbd2,Nf6,a4,Re8,Bb5,Bxb5,axb5,Qd7,Nd4,Nd5,N2f3,h6,Re1,Rxe1+,Nxe1,Nf6,Qf3,d5,Nec2,Ne4,Ne3,c5,bxc6,bxc6,Rd1,Rb8,b3,Nf6,Rc1,Rb4,Nxc6,Rxb3,Qf5,Qb7,Nxd5,Nxd5,Qxd5,Qb6,Ne7+,Kf8,Nf5,Kg8,Qe5,f6,Qe7,Qb7,Qe6+,Kh7,h4,Rb1,Rxb1,Qxb1+,Kh2,a5,Qe7,Qb8+,g3,Qg8,Qe4,Kh8,Qe7,a4,h5,Kh7,Qe4,Kh8,Ne7,Qa2,Ng6+,Kh7,Kg2,a3,Qe8,Qd5+,Kg1,Qd1+,Kh2', 'Qxh5+,Kg2,Qxg6,Qa8,Qd3', 'https://lichess.org/training/Timla');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TINXt', 'Blitz', 'e4e5Qh5', 2063, 'haronkhamis99', 1767, 'd4,e6,Bf4,b6,e3,Bb7,Nf3,Nf6,h3,Nc6,Nbd2,Qe7,Ne5,O-O-O,Ndf3,h6,Bd3,g5,Bh2,Nxe5,dxe5,Nd5,O-O,f5,exf6,Qxf6,Be5,Qe7,Bxh8,Bg7,Bxg7,Qxg7,Qe2,h5,Ba6,g4,Bxb7+,Kxb7,hxg4,hxg4,Nh4,Rh8,g3,Kb8,c3,Nf6,Kg2,Ne4,Rh1,Rf8,Raf1,Qg5,Qd3,d5,c4,Qe5,Ng6', 'Rxf2+,Rxf2,Qxg3+,Kf1,Qxf2#', 'https://lichess.org/training/TINXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TIOI9', 'Blitz', 'Vainiac', 1808, 'JimZW', 1831, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,Bg7,Be3,Bxc3+,bxc3,Qa5,Qd2,Nf6,Bd3,Ba6,O-O,O-O,Bh6,Rfb8,e5,Nh5,Qg5,Qc5,Bxa6,f6,Qg4,Rd8,Rab1,Qxe5,Rb7,f5,Qb4,c5,Qb3+,d5,Qb1,Rab8,Re1,Rxb7,Bxb7,Qd6,Qd1,Nf6,Ba6,c4,a4,Ne4,Bb5,e5,Qf3,a6,Bxc4,dxc4,h3,g5,Qxf5,Qxh6,Qxe4,Qf6,Qxc4+,Kg7,Qc7+,Kg6,Rxe5,Rd1+,Kh2', 'Qf4+,g3,Qxf2#', 'https://lichess.org/training/TIOI9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TIP9N', 'Rapid', 'rahmaninov', 1784, 'Moep_Meep', 1734, 'e4,g6,Nf3,Bg7,Bc4,d6,c3,Nc6,d4,e6,Bg5,Qd7,Nbd2,Nf6,e5,dxe5,dxe5,Nd5,Ne4,Nxe5,Bf6,Bxf6,Bxd5,Nxf3+,gxf3,Bg7,Bc4,Qc6,a4,Qxc4,Qd2,O-O,Ng5,Qc5,h4,Qe5+,Qe3,Qxe3+,fxe3,Bd7,h5,Bc6,hxg6,fxg6,Rxh7,Bxf3,Rxg7+,Kxg7,Nxe6+,Kf7,Nxf8,Kxf8,Kf2,Bc6,a5,Kf7,b4,Kf6,e4,Bxe4,Rf1,Bc6,Ke3+,Kg7,Kd4,Rd8+,Kc5,Rd5+,Kc4,Rh5,Rd1,g5,b5,Bf3,Rd7+,Kf6,Rxc7,Rh4+,Kc5,Ke5,a6,bxa6,bxa6,Be2,Rxa7,Rc4+,Kb6,Kf4,Rf7+,Kg3,a7,Bf3', 'Rxf3+,Kxf3,a8=Q+', 'https://lichess.org/training/TIP9N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tIqtf', 'Rapid', 'gafflen', 1996, 'Doyer', 2100, 'c4,f5,Nc3,Nf6,d4,g6,g3,Bg7,Bg2,O-O,Nf3,d6,O-O,c6,Re1,Qc7,e4,e6,e5,dxe5,Nxe5,Rd8,Bg5,Nbd7,Nxd7,Bxd7,d5,cxd5,cxd5,Re8,d6,Qb6,Qd2,Ng4,h3,Ne5,Be3,Qb4,a3,Qb3,Bd4,Nc4,Qf4,e5,Bxe5,Nxe5', 'Bd5+,Be6,Bxb3', 'https://lichess.org/training/tIqtf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tiqVL', 'Bullet', 'alekusuk', 1774, 'harleyk', 1764, 'b3,c6,Bb2,d5,e3,f6,f4,e6,Nf3,Bd6,Be2,Ne7,O-O,O-O,d3,Ng6,Qe1,e5,fxe5,fxe5,e4,Nf4,exd5,Nxe2+,Qxe2,Qc7,dxc6,Nxc6,Nbd2,Bg4,a3,Rae8,Ne4,Nd4,Bxd4,exd4,g3,Rxe4', 'Qxe4,Bxf3,Rxf3,Rxf3,Qxf3', 'https://lichess.org/training/tiqVL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tIRVk', 'Rapid', 'Aleksej03', 1771, 'angelko', 1767, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,cxd5,exd5,Nxd5,Be7,Nxe7,Qxe7,e3', 'Qb4+,Qd2,Qxd2+,Kxd2,Ne4+,Ke1,Nxg5', 'https://lichess.org/training/tIRVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tisjD', 'Rapid', 'Danesh_Morales', 2056, 'vicenteAV', 1817, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,O-O,d6,Re1,Nf6,Bg5,O-O,Nxd4,Ne5,Bb3,Bd7,Nc3,h6,Bh4,c5,Bxf6,Bxf6,Nf5,Bxf5,exf5,Qd7,Ne4,Rad8,Nxf6+,gxf6,f4,c4,fxe5,cxb3,Qxd6,Qxf5,Qxf6,Qxf6,exf6,bxc2,Rac1,Rc8,Re2,Rc6,Rf2,Rd8,Rcxc2', 'Rd1+,Rf1,Rxf1+,Kxf1,Rxc2', 'https://lichess.org/training/tisjD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TIsRz', 'Rapid', 'judii', 1811, 'tarun007vyas', 1829, 'Nf3,c5,e3,Nc6,d4,cxd4,exd4,d5,Be2,Bf5,c3,e6,O-O,Nf6,a4,Bd6,a5,a6,Bg5,O-O,Nbd2,h6,Bxf6,Qxf6,Qb3,Rab8,Rfe1,Rfe8,Nf1,Ne7,Ng3,Bh7,Nh5,Qg6,Ne5,Bxe5,dxe5,Nf5,Rad1,Qg5,Rd3,Qe7,Qa4,Qc5,Qg4,Bg6,Rh3,Kh7,Bd3,Bxh5,Qxh5,g6,Bxf5,Qf8,Bc2,Kg7,Qh4,Kg8,Qf6,Qg7,Rf3,Qxf6,Rxf6,Kg7,g4,Rbc8,h4,d4,Rd1,dxc3,bxc3,Rxc3,Be4,Rc5,Rd7,Rf8,g5,Rxe5,Bxb7,hxg5,hxg5', 'Rxg5+,Kf1,Kxf6', 'https://lichess.org/training/TIsRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tiSxo', 'Blitz', 'LM Assios', 2153, 'berekin98', 2208, 'e4,d6,Nc3,Nf6,Nf3,e5,Bc4,Be7,h3,O-O,d3,a6,O-O,b5,Bb3,Nc6,a4,b4,Nd5,Nxd5,Bxd5,Bb7,d4,exd4,Nxd4,Qd7,Be3,a5,Re1,Bf6,Rb1,Nd8,Bc4,Bxe4,Bf4,d5,Bb5,c6,Bf1,Re8,Nb3,Nb7,Qd2,h5,Rbd1,h4,Be3,Bxb2,Bd4,Bxd4,Qxd4,g5', 'Rxe4,Rxe4,Qxe4', 'https://lichess.org/training/tiSxo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TiSzu', 'Classical', 'AndriStahel', 1760, 'Magic_Skill', 1798, 'e4,c5,Nf3,d6,Bc4,Nf6,Ng5,e6,d3,d5,exd5,exd5,Bb3,Be7,O-O,Ng4,Ba4+,Nc6,Qe2,O-O,Nf3,Bd6,h3,Nf6,c3,Re8,Qd1,a6,Bc2,Ne5,Be3,Nxf3+,Qxf3,b6,Nd2,Bb7,Qd1,Bc7,Nf3,Qd6,d4,b5,dxc5,Qd8,b4,a5,a3,axb4,cxb4,Ra6,Bd4,Rae6,Qd3,Re2,Rae1,R2e4,Qxb5,R4e7,Ng5,Rxe1,Qxb7,R8e7,Qc6,Qb8,Bd3,Bh2+,Kh1,Rxf1+,Bxf1,Re1,g3,Bxg3,Kg2,Qf4,Qc8+,Re8,Qc6,Qxg5', 'Bxf6,gxf6,Qxe8+,Kg7,fxg3', 'https://lichess.org/training/TiSzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tiuXd', 'Rapid', 'ivanoVVasya', 1800, 'chlebik', 1717, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,a3,Bxc3+,bxc3,b6,Nf3,Bb7,Bg5,h6,Bxf6,Qxf6,Rb1,d6,Qd3,c5,d5,exd5,cxd5,Nd7,e4,Ne5,Nxe5,Qxe5,Be2,Rac8,c4,f5,exf5,Rxf5,O-O,Rff8,Bg4,Rce8,Be6+,Kh8,a4,Qd4,Qxd4,cxd4,Rbd1,Rf4,g3,Rf3,Rxd4,Ra3,Rb1,Rxa4', 'Bd7,Rxc4,Rxc4', 'https://lichess.org/training/tiuXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tIvAJ', 'Blitz', 'ArtushKocharyan', 2451, 'GM S_Guliev', 2454, 'Nf3,Nf6,c4,c5,Nc3,Nc6,g3,e6,Bg2,d5,cxd5,exd5,d4,h6,O-O,Be7,dxc5,Bxc5,Bf4,O-O,Rc1,Re8,Nb5,Bb6,Nfd4,Nxd4,Nxd4,Bg4,h3,Bh5,g4,Bg6,e3,Be4,Bxe4,Nxe4,Nf5,Qf6,Qxd5,Rad8,Qxb7,h5,Rc6,Qxb2,a4,hxg4,a5,Rd1,Rxd1,Qxf2+,Kh1,Qf3+,Kh2,Qxh3+,Kg1,g3,Rh6,Qxf5,axb6,gxh6,bxa7,Qh3,Qxe4', 'Qh2+,Kf1,Qf2#', 'https://lichess.org/training/tIvAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tiw3q', 'Rapid', 'rego08', 1843, 're-am', 1915, 'd4,d5,Bg5,Bf5,Nd2,Qd6,c3,c6,f3,Nd7,e4,dxe4,fxe4,Bg6,e5,Nxe5,Bf4,Nd3+,Bxd3,Qxf4,Bxg6,hxg6,g3,Qf5,Ngf3,Nf6,Qe2,e6,O-O-O,O-O-O,Rhf1,Qa5,Kb1,Bd6,Nc4,Qc7,Nfe5,Bf8,h4,b5,Nd2,Bd6,Ndf3,Rhf8,g4,Nd5,Ng5,Bxe5,dxe5,Rd7,Nxe6,fxe6,Rxf8+,Kb7,c4,bxc4,Qxc4,Nc3+,bxc3,Rxd1+,Kc2,Rd5,Qb4+,Rb5,Qf4,Rxe5', 'Rf7,Qxf7,Qxf7+', 'https://lichess.org/training/tiw3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tIwHJ', 'Rapid', 'Spider202020', 2048, 'Gouda76', 2025, 'Nf3,d5,c4,e6,b3,Nf6,Bb2,Be7,g3,O-O,Bg2,c5,e3,Nc6,O-O,Qc7,d3,Rd8,Nc3,d4,exd4,Nxd4,Nxd4,cxd4,Nb5,Qb6,Rc1,a6,Na3,e5,Re1,Qa5,Nc2,Bg4,f3,Bf5,a3,Rac8,b4,Qc7,Re2,h6,Ne1,Re8,Bf1,Bd8,Ng2,b6,Nh4,Bh7,Bh3,Rb8,Nf5,Kh8,g4,Bxf5,gxf5,Nh5,Bg4,Nf4,Re4,h5,Rxf4,exf4,Bxh5,Qe5,Bg4,Bh4,Qf1,Qe3+,Kh1,Qe2,Bxd4,Rbd8,Bxb6,Rxd3,Qxe2,Rxe2,c5,Rdd2,c6,Rxh2+,Kg1,Rdg2+,Kf1,Rh1+', 'Kxg2,Rxc1,c7', 'https://lichess.org/training/tIwHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tiXN0', 'Rapid', 'cualpuedo', 1690, 'Avanti14', 1678, 'e4,c5,Bc4,e6,Nf3,f6,d4,b6,dxc5,bxc5,O-O,Bb7,e5,f5,Bg5,Qb6,Nh4,Be7,Bxe7,Nxe7,Qh5+,g6,Qh6,Nbc6,b3,O-O-O,a3,Ba6,Nd2,Bxc4,Nxc4,Qc7,Nd6+,Kb8,Nf7,Nxe5,Nxh8,Rxh8,Qg7,Re8,Qxh7,c4,bxc4,Qxc4,Rab1+,Kc7,Qg7,Qc3,Rb3', 'Nf3+,Nxf3,Qxg7', 'https://lichess.org/training/tiXN0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TiyfX', 'Rapid', 'FarisAlhuri', 1795, 'malisha', 1839, 'e4,c5,Nf3,d6,Bc4,e6,O-O,a6,c3,b5,Bb3,Bb7,Re1,Be7,d4,c4,Bc2,Nf6,e5,Nd5,Be4,O-O,h4,dxe5,Bg5,exd4,Bxe7,Qxe7,Ng5,h6,Nf3,dxc3,Nxc3,Rd8,Nxd5,Bxd5,Qc2,Nc6,Bf5,Bxf3,gxf3,Qxh4,Be4,Nd4,Qc3,Qg5+,Kf1,Rac8,Rad1,Qh4,Rxd4,Rxd4,Qxd4,Rd8', 'Bh7+,Kxh7,Qxh4', 'https://lichess.org/training/TiyfX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TIyOL', 'Rapid', 'RecisipGG', 1636, 'hdz4ever', 1614, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,Bc5,Bb5,a6,Bxc6,bxc6,Nxe5,Bb7,Bg5,d6,Ng4,h5,Nxf6+,gxf6,Bh4,Qe7,Qf3,Rh6,O-O,O-O-O,Ne2,d5,Qf5+,Kb8,Rad1,Bc8,Qf4+,Bd6,Qxh6,Qxe4,Ng3,Qxh4,Qxh5', 'Bxg3,Qxh4,Bxh4', 'https://lichess.org/training/TIyOL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tIznX', 'Rapid', 'GoneSailing', 2162, 'shah66', 2046, 'e4,e5,f4,d6,Nc3,c6,Nf3,Nd7,Bc4,h6,d3,Ngf6,O-O,g6,fxe5,dxe5,Be3,Bg7,Qd2,Ng4,Bxf7+,Kxf7,Nxe5+,Kg8,Nxg4,Ne5,Nxe5,Bxe5,Rf3,Bg4,d4,Bc7,Rf2,Qh4,g3,Qh5,e5,Re8,Ne4,Kg7,Nf6,Qh3,Nxe8+,Rxe8,Raf1,Be6,Rf4,g5,Rf6,Bd5,Bxg5,Rxe5,Bxh6+,Kh7,dxe5', 'Bb6+,Be3,Bxe3+,Qxe3,Qg2#', 'https://lichess.org/training/tIznX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tizUZ', 'Rapid', 'Narbouki', 1707, 'GreenedOutChess', 1703, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Bf5,Bd3,Bg6,Qe2,e6,Ne5,Bd6,Nxg6,hxg6,g3,Nf6,Ng5,Qe7,b3,Nd5,Ne4,Nb4,O-O,Nxd3,Qxd3,Be5,Rb1,Na6,f4,Nb4,Qc4,b5,Qc5', 'Qxc5+,Nxc5,Bd4+', 'https://lichess.org/training/tizUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tJ2AL', 'Classical', 'Flavio_Goes', 1825, 'luchayequilibrio', 1937, 'e4,c5,Nf3,d6,Bc4,Nf6,e5,dxe5,Nxe5,e6,O-O,Qd4,Qe2,Bd6,c3', 'Qxe5,Qxe5,Bxe5', 'https://lichess.org/training/tJ2AL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tJ4Kh', 'Rapid', 'ChessWhiz', 1824, 'ozan1989', 1907, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,Bb4,Bd3,Nf6,O-O,O-O,Bg5,Be7,Ne5,Nd5,Bxe7,Nxe7,Qh5,Ng6,Rad1,Nd7,Rfe1,Nf6,Qg5,Nd5,Qxd8,Rxd8,Nxd5,Rxd5,Be4,Rd8,c3,c6,Kf1,a5,g3,Nxe5,dxe5,Rxd1,Rxd1,f5,Bf3,b6,Bxc6,Rb8,Rd8+,Kf7,Bd7', 'Ba6+,Ke1,Rxd8', 'https://lichess.org/training/tJ4Kh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tj4Nk', 'Classical', 'ApXoHT_1', 1778, 'nishanth1596', 1652, 'd4,d5,Bf4,Nc6,e3,e6,Nd2,Nf6,Ngf3,Be7,a3,O-O,Bd3,Na5,Ne5,c5,c3,cxd4,exd4,Nd7,Ndf3,f6,Nxd7,Bxd7,Nd2,Rc8,Qh5,g6', 'Bxg6,hxg6,Qxg6+', 'https://lichess.org/training/tj4Nk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tj4uB', 'Rapid', 'Zagor2000', 1901, 'MAESTRO_CHANG', 1676, 'e3,d5,b3,c5,Bb2,Nc6,d3,e5,Be2,d4,e4,f5,exf5,Bxf5,Nd2,Nf6,h3,Bd6,a3,O-O,Ngf3,h6,Nc4,e4,dxe4,Nxe4,O-O,Bc7,Bd3,b5,Ncd2,Nxd2,Qxd2,Bxd3,Qxd3,a6,Bc1,Ne5,Nxe5,Bxe5,g3,Qb6,Bd2,c4,bxc4,bxc4,Qxc4+,Kh8,Rab1,Qa7,Qd3,Rf7,Bb4,a5,Bd2,Raf8,Rb5,Bxg3,Rxa5,Bxf2+,Kg2,Qb7+,Kh2,Bg3+,Kxg3,Rxf1,Kg4,Rg1+,Kh4,g5+,Kh5,Qf7+,Qg6,Qf3+,Kxh6,Qf7', 'Qxf7,Rxf7,Ra8+,Rf8,Rxf8#', 'https://lichess.org/training/tj4uB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tJ5R3', 'Blitz', 'karandora', 1730, 'Mat3r', 1763, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nc3,Be7,b3,O-O,Bb2,a6,O-O,b5,Bd3,Bb7,Nce2,Nbd7,Ng3,Ne5,f4,Nxd3,cxd3,Rc8,e5,dxe5,fxe5,Nd5,Qg4,Ne3,Qf4,Nxf1,Rxf1,Bc5,Nh5,Qd5,Rf3,Bxd4+,Bxd4,Rc2,Nf6+,gxf6', 'Rg3+,Kh8,Qxf6#', 'https://lichess.org/training/tJ5R3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TJ5Zq', 'Classical', 'bojanz40', 1615, 'Ilichrich', 1662, 'd4,d5,e3,Bf5,Bd3,Bxd3,Qxd3,Nf6,Nf3,e6,O-O,h6,Nbd2,Nc6,c4,dxc4,Nxc4,g5,b3,Qd5,Ncd2,O-O-O,Bb2,g4,Ne5,Nxe5,Qc3,Nc6,Rac1,h5,a4,h4,b4,Bxb4,Qd3,h3,e4,Qd6,g3,Nh5,Nc4,Qf8,d5,exd5,exd5,f5,Bxh8,Qxh8', 'Qxf5+,Kb8,dxc6', 'https://lichess.org/training/TJ5Zq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tj8eX', 'Blitz', 'Fingeras', 1794, 'Vloleer', 1794, 'Nf3,c5,c3,Nc6,Qc2,g6,e3,Bg7,Bc4,e6,O-O,d5,Bd3,Nge7,b3,b6,Bb2,Bb7,Na3,O-O,Rad1,a6,Be2,e5,Kh1,Qc7,d4,exd4,exd4,Nf5,dxc5,bxc5,Rxd5,Nb4,cxb4,Bxd5,bxc5,Bxb2,Qxb2,Qxc5,Nc4,Rfe8,Bd1,Rad8,Nfe5,Nh4,f3,Qe7,Ng4,Bxc4,bxc4,Rxd1', 'Nh6+,Kf8,Qh8#', 'https://lichess.org/training/tj8eX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TJAwe', 'Rapid', 'rambler02041970', 1789, 'Kapivaroviski', 1817, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Qf6,c3,d6,h3,Be6,Nd2,Qg5,b3,Ne7,Nf3,Qg6,Bd3,Nc6,Bb5,O-O,Bxc6,bxc6,g4,c5,Qd3,d5,Ne5,Qxe4+,Qxe4,dxe4,O-O-O,Rad8,Nc6,Rd6,Nxa7,Ra8,Nb5,Rd3,Rxd3,exd3,Kb2,c4,Nxc7,Rc8,Nxe6,fxe6,bxc4,Rxc4,Rd1,Rf4,Rxd3,Rxf2+,Kb3,Kf7,a4,Ke7,a5,Rf8,Ka4,Ra8,c4,e5,c5,Ke6,c6,e4,Re3,Kd5,c7,Kd4,Rb3,Rc8,Rb7,e3,a6,e2,Rb4+,Kd3,Rb3+,Kd2,Rb2+,Ke1,a7,Kf1,Rb8,e1=Q,a8=Q', 'Qa1+,Kb5,Qxa8,Rxa8,Rxa8', 'https://lichess.org/training/TJAwe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TJb9U', 'Rapid', 'yst32', 1877, 'asimcvf', 1871, 'e4,e5,Nf3,d6,d4,Nd7,Nc3,c6,Bc4,Qe7,O-O,h6,d5,c5,Nb5,Qd8,a4,a6,Nc3,b6,Ne2,Ngf6,Ng3,g6,c3,Bg7,b4,Qe7,Nd2,O-O,Nb3,Ne8,bxc5,Nxc5,Nxc5,bxc5,Rb1,Nf6,Rb6,Rd8,f4,exf4,Bxf4,Nxe4,Nxe4,Qxe4,Qb3,Qe7,Bg3,Qc7,a5,Bf5,Bxa6,Rab8,c4,Qa7,Qb5,Bd7,Qb1,Bf5,Qb5,Bd7,Qb1,Bf5,Qb5,Bd4+,Kh1,Bd7,Qb1,Ba4,h4,h5,Qa2', 'Rxb6,axb6,Qxa6', 'https://lichess.org/training/TJb9U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tJcBG', 'Rapid', 'The_Pharos', 1917, 'sobels', 2029, 'd4,Nf6,c4,c5,e3,cxd4,exd4,e6,Nf3,d5,Nc3,Bb4,a3,Bxc3+,bxc3,Qa5,Bd2,Ne4,Qc2,Nxd2,Nxd2,O-O,Bd3,h6,cxd5,exd5,O-O,Nc6,Rfe1,Be6,Nb3,Qc7,Nc5,Rfe8,Qb3,Na5,Qb4,b6,Nxe6,Rxe6,Rxe6,fxe6,Re1,Rc8,Re3,Kh8,Ba6,Re8,Bb5,Rc8,Rxe6,Qxc3', 'Re8+,Rxe8,Qxc3', 'https://lichess.org/training/tJcBG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TJco0', 'Rapid', 'Dos_Santos', 1648, 'bulaxa', 1692, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Nf6,Bc4,Bb4,f3,O-O,a3,Bxc3+,bxc3,a6,Bg5,b5,Bb3,Ne5,f4,Nc4,e5,h6,Bxf6,gxf6,Qc1,f5,O-O,Bb7,Bxc4,bxc4,Qe3,Kh7,Rab1,Rb8,Rb4,Rg8,Rf2,Qh4,Rxc4,Rg6,Rc7,Be4,Rxd7,Rxg2+,Rxg2', 'Rb1+,Qe1,Rxe1#', 'https://lichess.org/training/TJco0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tjdXa', 'Rapid', 'sleppup', 1873, 'Allenator', 1891, 'd4,e6,c4,Nf6,e3,d5,a3,c5,dxc5,Bxc5,b4,Be7,Bb2,Kf8,Nf3,dxc4,Qxd8+,Bxd8,Bxc4,Nc6,O-O,a6,Rd1,Bc7,b5,axb5,Bxb5,Ra5,Bxc6,bxc6,Bc3,Rh5,Bb4+,c5,Bc3,Ke7,Nbd2,Bb7,h3,Rd8,Rac1,Bc6,Bb2,g5,Rxc5,Rd6,Rxg5,Bxf3,gxf3,Rxg5+,Kf1,Ba5', 'Bxf6+,Kxf6,Ne4+', 'https://lichess.org/training/tjdXa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tJdyo', 'Blitz', 'Mazin_Ledger', 1691, 'chessnoobloigor4', 1649, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Be3,Nge7,Bb5,Nf5,O-O,Nxe3,fxe3,Qa5,Bxc6+,bxc6,c3,Ba6,Rf2,Rb8,Qc2,Bc4,Nbd2,Qb5,b3,Bd3,Qd1,Be4,Nxe4,dxe4,Ng5,cxd4,cxd4,Bb4,Nxf7,O-O,Qh5,Rb7,Ng5,h6,Nxe6,Rbf7,Raf1', 'Qxf1+,Kxf1,Rxf2+,Kg1,Rf1#', 'https://lichess.org/training/tJdyo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tJfjJ', 'Rapid', 'jprata', 1813, 'Ebrahimadm', 1760, 'e4,e5,f4,exf4,Nf3,Nf6,e5,Nd5,c4,Ne7,d4,Ng6,Bd3,Bb4+,Nc3,Bxc3+,bxc3,Qe7,O-O,Nc6,d5,Ncxe5,Re1,d6,Bxg6,hxg6,Bxf4,Bg4,Bxe5,Bxf3,Bxg7,Bxd1,Rxe7+,Kxe7,Bxh8,Rxh8,Rxd1,Rh4,Rd4,Rxd4,cxd4,Kf6,Kf2,Kf5,Kf3,g5,g4+,Kg6,c5,dxc5,dxc5,f5', 'd6,cxd6,cxd6', 'https://lichess.org/training/tJfjJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TJHEs', 'Rapid', 'georgpoltevskoy', 1883, 'HAI52', 1607, 'e4,e5,Bc4,Nf6,d3,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,Bc5,Nxe5,O-O,d4,Nxe5,dxe5,Ne4,Nd2,Re8,Nxe4,dxe4,Qxd8,Raxd8,Be3,Bxe3,fxe3,Rxe5,Rad1,Red5,Rxd5,Rxd5,Rf4,f5,Kf1,g5,Rf2,Kg7,Ke1,Kg6,Rd2,Rxd2,Kxd2,f4,c4,Kf5,b4,f3,gxf3,exf3,c5,Ke4,b5,h5', 'c6,f2,Ke2', 'https://lichess.org/training/TJHEs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TJil8', 'Blitz', 'glim', 2146, 'Sidian', 2085, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,c4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,e5,O-O,Bc5,Bg5,h6,Bh4,g5,Bg3,d6,h4,g4,a3,a5,Rb1,Nh5,Kh2,O-O,b4,axb4,axb4,Bd4,Ne2,c5,Nxd4,cxd4,Be2,Nxg3,fxg3,h5,Qd2,Kh7,c5,d5,exd5,f5,d6,Be6,Qc2,Ra2,Rb2,Rxb2,Qxb2,f4,Bd3+,Kh6,b5,fxg3+,Kg1,Rxf1+,Bxf1,Qf6,Qd2+,Kg6,Bd3+,Kf7,Qg5', 'Qf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/TJil8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tJilB', 'Blitz', 'Alex-arsenault', 1732, 'Leuzi', 1750, 'c4,f5,Nc3,e6,g3,g6,Bg2,Nf6,e3,Bg7,d4,O-O,b3,d5,cxd5,exd5,Bb2,c6,Nge2,Ne4,O-O,Nd7,f3,Nd6,e4,fxe4,fxe4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bd3,Nd5,Bc4,Kh8,Qd3,Bf5,Qd2,Qd7,Bxd5,cxd5,Nf4,Rae8,Qa5,Be4,Qxa7,Rxf4,Rxf4,Qh3,Rf2,Rf8,Raf1,Rxf2,Rxf2,h5,Qxb7,Kh7,a4,h4,gxh4', 'Qg4+,Kf1,Qd1#', 'https://lichess.org/training/tJilB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tjJQJ', 'Classical', 'ZiZino', 1658, 'delcastillo58', 1694, 'e3,e6,g3,Nf6,d3,Be7,Nc3,c6,f4,b5,b3,Bb7,Bg2,O-O,h3,Na6,a3,Rb8,Nf3,c5,Bb2,b4,axb4,Nxb4,Na4,Nfd5,Qd2,Bf6,Bxf6,Qxf6,c3,Na6,O-O,Bc6,Ne5,Rxb3,Nxc6,dxc6,c4,Nc3', 'Nxc3,Qxc3,Qxc3,Rxc3,Rxa6', 'https://lichess.org/training/tjJQJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tjJZy', 'Blitz', 'neriojr', 1918, 'MrKaroKann', 1893, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Nd7,O-O,Ne7,Bg5,Qb6,b3,c5,c4,cxd4,Nxd4,Nxe5,Bxe7,Bxb1,c5,Qc7,Bxf8,Rxf8,Rxb1,Qxc5,Rc1,Qd6,Nb5,Qd8,Nc7+,Ke7,Nxa8,Qxa8,Rc7+,Kd6,Rc1,a6,f4,Nc6,f5,e5,Bf3,Nd4,Qxd4,exd4,Rfd1,Qa7,Rd3,Re8,Rcd1,Re3,Rxe3,dxe3,Rxd5+,Ke7,Kf1,Kf6,Ke2,b5,g4,Qe7,h4,h6,Rd3,Qa3,Kxe3,Qxa2,Rd6+,Ke7,Rb6,Qxb3+,Kf4,a5,Rb7+,Kf6', 'g5+,hxg5+,hxg5#', 'https://lichess.org/training/tjJZy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TJkcN', 'Classical', 'Ferdamai', 1892, 'andres19', 1984, 'e4,e5,c4,Nc6,d3,f5,exf5,Nf6,Bg5,Be7,Bxf6,Bxf6,Qh5+,Kf8,g4,Nd4,Na3,d5,b3,Bd7,cxd5,Qe7,Be2,Qxa3,g5,Be7,f6,gxf6,Qh6+,Kf7', 'Bh5+,Kg8,gxf6,Bxf6,Qxf6', 'https://lichess.org/training/TJkcN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TJKdA', 'Rapid', 'pawnmonster', 2111, 'tartakobeub', 1959, 'e4,c6,d4,d5,exd5,cxd5,Nc3,a6,Bd3,Nc6,Nge2,Nf6,O-O,e6,Bg5,Be7,Na4,Nb4,c3,Nxd3,Qxd3,Bd7,Nc5,Qc7,Nxd7,Qxd7,f4,Ne4,Bxe7,Qxe7,f5,O-O,Rae1,Qd7,Ng3,Rae8,Nxe4,dxe4,Qxe4,exf5,Qxf5', 'Qxf5,Rxf5,Rxe1+', 'https://lichess.org/training/TJKdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tjkho', 'Rapid', 'cat73', 1900, 'papuas2500', 1932, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,c4,Re1+,Be7,b3,cxb3,axb3,Ngf6,Ba3,Ne4,c4,O-O,Bxe7,Qxe7,Nfd2,Rfe8,f3,Qf6,fxe4', 'Qxd4+,Kh1,Qxa1', 'https://lichess.org/training/tjkho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tjlwo', 'Blitz', 'fkalman', 1992, 'eadpiszeri', 1984, 'e4,e5,f4,Bc5,Nf3,d5,exd5,e4,d4,exd3,Bxd3,Ne7,Nbd2,Qxd5,Qe2,O-O,Bc4,Qc6,Ne5,Qb6,Ne4,Bd4,Nxf7,Rxf7,c3,Bf6,Be3,Qc6,Bxf7+,Kxf7,Ng5+,Kg8,O-O,Nd5,Bd4,Bxd4+,cxd4,Nd7', 'Qe8+,Nf8,Qf7+,Kh8,Qxf8#', 'https://lichess.org/training/tjlwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tjngD', 'Rapid', 'Mercuryjon', 1807, 'IkkiRaikou', 1822, 'Nf3,Nf6,g3,g6,b3,d5,Bb2,Bg7,c4,c6,Bg2,Nbd7,O-O,O-O,d3,Re8,Nbd2,e5,Qc2,Nh5,e4,d4,c5,Qe7,b4,a5,a3,Nf8,Nc4,f5,Nd6,fxe4,Nxe8', 'exf3,Nxg7,fxg2', 'https://lichess.org/training/tjngD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TjnJj', 'Rapid', 'Alnivan', 1758, 'phlp87', 1625, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c3,a6,Ba4,b5,Bb3,Ng6,O-O,Bc5,Re1,O-O,d4,exd4,cxd4,Bb6,Bg5,Qe8,Nc3,h6,Be3,d6,Nd5,Qxe4,Nxb6,cxb6,Bxh6,Qg4,Be3,Na5,Bd5,Rb8,Bd2,Nc4,Re4,Nxb2,Qc2,Bf5,Rxg4,Bxc2,Rc1,Bf5,Rg5,Ne7,Bb3,Nd3,Rc7,Rfe8,Rxf5,Nxf5,Bxf7+,Kh8,Bxe8,Rxe8,g4,Ne7,Rb7,Nd5,Kf1,a5,Ng5,Rf8,Kg1,Rxf2', 'Rb8+,Rf8,Rxf8#', 'https://lichess.org/training/TjnJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tJo87', 'Rapid', 'HRunthla', 1648, 'irakligegeshidze', 1615, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Nf3,Bb4+,Nbd2,Qe7,Bd3,Nf6,a3,Nxe4,axb4', 'Nc3+,Ne4,Nxd1', 'https://lichess.org/training/tJo87');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tJOOr', 'Rapid', 'obsidiantr', 1616, 'AgustinLepre', 1728, 'e4,e5,Nf3,Qf6,Nc3,c6,d3,d6,b3,h6,Bb2,Be7,d4,a6,d5,Qg6,dxc6,bxc6,Qd3,Nd7,O-O-O,Nc5,Qe3,Bg4,Be2,Bxf3,gxf3', 'Bg5,f4,Bxf4,Qxf4,exf4', 'https://lichess.org/training/tJOOr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TjQGO', 'Rapid', 'Ocl0ck', 1830, 'Kostas_Paps', 1795, 'd4,Nf6,Bf4,e6,Nf3,d5,e3,c5,c3,Bd6,Bg5,h6,Bh4,Nc6,dxc5,Bxc5,Nbd2,O-O,Bd3,e5,Bc2,Bg4,h3,Be6,Nb3,Be7,Bg3,Qc7,O-O,Bd6,Qe2,e4,Bxd6,Qxd6,Nfd4,Nh7,Nxe6,fxe6,Nd4,Ne5,Rad1,Ng5,h4,Ngf3+,gxf3,Rxf3,Bxe4,Rh3,Bg2,Rxh4,Nxe6', 'Nf3+,Qxf3,Qh2#', 'https://lichess.org/training/TjQGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tJRHd', 'Rapid', 'IDetestChess', 1659, 'SevenTears', 1713, 'd4,e5,dxe5,f6,exf6,Nxf6,Bg5,Bc5,Nc3,Bxf2+,Kxf2,Ng4+,Ke1,Qxg5,Nf3,Qd8,Qd4,Nf6,Rd1,Nc6,Qd2,O-O,e4,Nxe4,Nxe4,Qe7,Bd3,d5,Qg5,Qb4+,c3,Qxb2,Qxd5+,Kh8,Qb3', 'Qxg2,Rf1,Rxf3,Rxf3,Qxf3', 'https://lichess.org/training/tJRHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tjrQE', 'Blitz', 'IM Daskevich', 2655, 'MelodySoyani', 2655, 'e4,c5,Nc3,h5,d3,h4,h3,e6,Be3,Nc6,Nf3,g6,d4,cxd4,Nxd4,Nf6,a3,a6,f4,Bg7,e5,Nd5,Nxd5,exd5,Nf3,d6,Qxd5,Be6,Qe4,dxe5,fxe5,Bd5,Qg4,Bxf3,Qxf3,O-O,Be2,Nxe5,Qf2,Qe7,O-O,Rac8,c3,Rc6,Rae1,Re8,Bd4,Rf6,Qe3,Rxf1+,Bxf1', 'Nf3+,Kh1,Nxe1,Qxe7,Rxe7', 'https://lichess.org/training/tjrQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tjSby', 'Classical', 'Jrmota', 1914, 'sergelp', 1886, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,Nf6,Re1,a6,Ba4,b5,Bc2,Be7,d4,exd4,cxd4,O-O,Nc3,Bg4,d5,Ne5,Bf4,Bxf3,gxf3,Qd7,Kh1,Ng6,Be3,Qh3,Rg1,Nh5,Qd2,Qxf3+,Rg2,Nhf4,Rg1,Nxg2,Bd1,Qh3,Rxg2,Nh4,Rg1,Nf3,Bxf3,Qxf3+,Rg2,b4,Ne2,Qxe4,Bh6,Bf6,Ng3,Qe5,f4,Qxb2,Nh5,Qxd2', 'Nxf6+,Kh8,Bxg7#', 'https://lichess.org/training/tjSby');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TjTZY', 'Blitz', 'kintoho', 2453, 'FM NoMoreJokes', 2308, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Bc4,Nf6,e5,c2,Qxc2,Ng4,O-O,d5,exd6,Bxd6,Qd2,O-O,Rd1,Nce5,Nxe5,Nxe5,Bb3,Qh4,g3,Nf3+,Kg2,Bh3+,Kxf3,Qh5+,Ke4,Qf5+,Kd4,Bc5+,Kc4,b5+,Kc3,b4+,Kc4,Rad8,Qxd8,Rxd8,Rxd8+,Bf8,Rxf8+,Kxf8,Kxb4,a5+,Kc3,Qc5+,Bc4,Be6,b3,Bxc4', 'Ba3,Qxa3,Nxa3', 'https://lichess.org/training/TjTZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tJuoJ', 'Blitz', 'Panurge1', 1652, 'tean008', 1661, 'e4,c5,Nc3,e6,Bb5,a6,Ba4,b5,Nxb5,axb5,Bxb5,Ba6,Bxa6,Nxa6,d3,Nf6,c3,Be7,Bg5,O-O,Nf3,Ne8,Qd2,Bxg5,Nxg5,h6,Nf3,Nf6,O-O,Nc7,c4,Nce8,Rfe1,Nh7,Ne5,f6,Nf3,Nd6,Re2,f5,e5,Nf7,Rae1,Nfg5,Nxg5,Nxg5,Re3,Rxa2,Rg3,Qb8,h4,Rxb2,Qe3,Nf7,h5,Ng5,f4,Nf7,Rg6,Kh7,Qg3,Rg8,Re3,Rb1+,Kh2,Qb2,Re1,Rxe1,Qxe1,Qd4,g3,Qxd3,Qa5,Qxc4,Qc7,Qd5,Qa7,c4,Qa4,Qd4,Kh3,Qd3,Qb4,Qf1+,Kh2,Qf2+,Kh3,Qd4,Qe7,Qd3,Qxf7,c3', 'Rxh6+,Kxh6,Qg6#', 'https://lichess.org/training/tJuoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tjuYi', 'Rapid', 'Caspli', 1692, 'misterfrazier', 1675, 'e4,c5,Nf3,Nc6,d4,e6,Bb5,Qa5+,Nc3,Nf6,Bxc6,bxc6,Bd2,cxd4,Nxd4,Bb4,O-O,Ba6,Re1,O-O,a3,Bxc3,Bxc3,Qc7,Qd2,Ng4,g3,c5,Nxe6,dxe6,Qg5,f5,exf5,exf5', 'Re7,Qxe7,Qxe7', 'https://lichess.org/training/tjuYi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TJvZl', 'Rapid', 'jayzeus', 1795, 'moimoibubu', 1872, 'e4,e5,f4,exf4,Nf3,d6,d4,Nf6,Nc3,g5,h4,g4,Ng5,h6,e5,dxe5,dxe5,Qxd1+,Nxd1,Nd5,Bc4,c6,Ne4,Bf5,Nf6+,Nxf6,exf6,Bxc2,Bxf4,Be4,Ne3,h5,Rd1,Bb4+,Ke2,O-O,Bh6,Re8,Bg7,Bxg2,Rh2,Bf3+,Kf2,Bxd1,Nf5,b5', 'Nh6+,Kh7,Bd3+,Re4,Bxe4#', 'https://lichess.org/training/TJvZl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tjY7D', 'Classical', 'senolut', 1775, 'upr999', 1874, 'd4,d5,c4,e6,Nf3,Nf6,Qc2,Be7,cxd5,Nxd5,e4,Nb4,Qc3,O-O,a3,N4c6,b4,a6,Be2,b5,O-O,Bb7,Be3,Na7,Nbd2,h6,Rfd1,Nbc6,Rac1,Bf6,e5,Bg5,Nxg5,hxg5,Nf3,f6,exf6,gxf6,Rd3,Ne7,Qxc7,Qxc7,Rxc7,Bxf3,Bxf3,Nd5,Bxd5,exd5,Rdc3,Rf7,Rxf7,Kxf7,Rc7+,Ke6,Kf1,Nc8,f4,gxf4,Bxf4,Kf5,g3,Ke4,Rf7,Kxd4,Rxf6,Kc4,Ke2,Kb3,Bc1,d4,Kd3,Ne7,Kxd4,a5,Rf3+,Ka4,bxa5,Nc6+,Kc5,Nxa5,Rf4+,Nc4,h4,Ka5,Rf6,Ne5,Bd2+,Ka4,Bb4', 'Nd7+,Kd5,Nxf6+', 'https://lichess.org/training/tjY7D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TjzMR', 'Blitz', 'tillasca', 2081, 'gq94', 2101, 'd4,Nf6,c4,e6,Nf3,c5,d5,exd5,cxd5,d6,Nc3,g6,e4,Bg7,Bd3,O-O,h3,b5,O-O,c4,Bc2,a6,Bg5,Qc7,a3,h6,Bh4,g5,Bg3,Nbd7,Nd4,Bb7,Nf5,Ne8,Nxg7,Kxg7,f4,Nc5,fxg5,hxg5,Qh5,Qe7,Rae1,Rh8,Qf3,f6,e5,dxe5,Bxe5,fxe5,Rxe5,Qxe5', 'Qf7+,Kh6,Qg6#', 'https://lichess.org/training/TjzMR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TK2X8', 'Classical', 'rodr10', 1717, 'ELCAPAMARTIN', 1686, 'e4,c5,Qf3,e6,Nh3,Nc6,d3,Nd4,Qd1,d6,c3,Nc6,Qf3,Nf6,Be3,Ne5,Qd1,Be7,Qa4+,Nc6,d4,O-O,dxc5,Bd7,cxd6,Bxd6,Qb3,Rb8,Qd1,Qc7,Bb5,Nxe4,Bxc6,bxc6,Qc2,Nf6,Nd2,Ng4,Ng5,f5,g3,Nxe3,fxe3,Qb6,O-O-O,Qxe3,h4,Bxg3,Nf3,Bf4,Kb1,Qc5,Qa4,Qb6,Nb3,Rbd8', 'Qxf4', 'https://lichess.org/training/TK2X8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tK3Cn', 'Rapid', 'SchachMitMartin', 2094, 'Joiella', 1928, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,Nb3,Be7,Nc3,h5,Be3,Nc6,Qd2,Nf6,O-O-O,a6,g3,O-O,Bg2,Rb8,f4,d6,h3,Qc7,Bf3,Nd7,g4,h4,Bf2,Nc5,Qe1,b5,Bxh4,Nxb3+,axb3,b4,Na4,e5,f5,Nd4,Bxe7', 'Qxc2#', 'https://lichess.org/training/tK3Cn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tk4zH', 'Rapid', 'Sabbirsh007', 1726, 'mikefay', 1773, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,d3,O-O,Ng5,d6,Be3,Bxe3,fxe3,Ng4,h4,Nxe3,Qe2,Nxc4,dxc4,h6,O-O-O,hxg5,Kb1,gxh4,Qh5,Qf6,Nd5,Qg6,Qxh4,Qh6,g4,Qxh4,Rxh4,f6,Rdh1,Kf7,g5,Be6,g6+,Kxg6,Rg1+,Kf7,Rh7,Rg8,Rf1,Bxd5,exd5,Ne7,b3,Kg6,Rh3,Raf8,Kb2,Kf7,Ka3,Ke8,Kb4,Kd8,a4,Kc8,Kb5,a6+,Ka5,c6,Rd1,cxd5,cxd5,Nf5,Kb6,Nd4,Rc3+,Kb8,Rc7,Rc8,Rxb7+,Ka8,Ra7+,Kb8,c4,Nxb3,Rb1,Nc5,Re7,Ka8,Ka5,Rb8,Rxb8+,Kxb8,Kb6,Nxa4+,Kc6,Nc5,Kxd6,a5', 'Kxc5,Rc8+,Kb5', 'https://lichess.org/training/Tk4zH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tk5Il', 'Blitz', 'kutaykasman', 1649, 'hari2006', 1634, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,O-O,c3,h6,d4,exd4,cxd4,Bb6,d5,Nb4,a3,Na6,e5,Nh7,d6,Kh8,Nc3,f6,exf6,Nxf6,dxc7,Nxc7,Ne5,Kh7,Qd3+,Kh8,Nf7+,Rxf7,Bxf7,d6,Ne4,Bf5,Qf3,Bxe4,Rxe4,Nxe4,Qxe4,Rb8,Qg4,Qf6,Bh5,Qxf2+,Kh1,Rf8,Be3,Qf1+,Rxf1', 'Rxf1+,Bg1,Rxg1#', 'https://lichess.org/training/Tk5Il');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TK5ud', 'Rapid', 'Jules_Maigret59', 1725, 'jagenau', 1659, 'e4,e5,Nf3,Bc5,Nxe5,Qh4,Qe2,Nf6,Nc3,d6,Nf3,Qh5,d4,Bb4,Bd2,O-O,O-O-O,Bg4,Qc4,Bxc3,Qxc3,Nxe4,Qe3,d5,Be2,Nc6,h3,Bxf3,g4,Qh4,Bxf3,Nxf2,Be1,Rae8', 'Qxf2,Qxf2,Bxf2', 'https://lichess.org/training/TK5ud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tk7O5', 'Classical', 'pjmark', 1703, 'Guruji_Kumher', 1741, 'd4,e6,g3,Qf6,c4,Nc6,Nf3,e5,Bg5,Qf5,h3,e4,g4,Qg6,Ne5,Qxg5,h4,Qf6,g5,Qf4', 'e3,Qf5,Bh3,Qxh3,Rxh3', 'https://lichess.org/training/tk7O5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tK8DC', 'Rapid', 'Remisero', 1741, 'Elo0603', 1685, 'd4,d5,c4,e6,Nc3,b6,e3,Bb7,cxd5,exd5,g3,Nf6,Bg2,Ne4,Nf3,Bb4,Bd2,Bxc3,bxc3,Qf6,O-O,g5,a4,h5,Qb3,h4,Bc1,hxg3,fxg3,Qh6,g4,c6,c4,Bc8,cxd5,Bxg4,h3,Bxf3,Rxf3,g4,Rxf7,gxh3,Bxe4,Qg5+,Kh2,Rg8,Ba3,Qg3+,Kh1,h2,dxc6', 'Qg1+,Rxg1,hxg1=Q#', 'https://lichess.org/training/tK8DC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TkBzB', 'Blitz', 'du-8', 1985, 'kdser', 1969, 'd4,Nf6,Nf3,e6,c4,Be7,Nc3,b6,e4,Bb7,Qc2,d6,Bd3,Nc6,a3,e5,d5,Nb8,O-O,Nbd7,b4,a5,Be3,O-O,h3,Nh5,Ne2,g6,Bh6,Ng7,Nh2,Nf6,f4,exf4,Nxf4,Nd7,Ng4,Bc8,Bxg7,Kxg7,c5,bxc5,bxc5,h5,Qc3+,Ne5,Nxe5,dxe5,Qxe5+,Bf6,Nxh5+,gxh5,Qg3+,Kh8,e5,Bxe5,Qf3,Bxa1', 'Qxh5+,Kg7,Qh7#', 'https://lichess.org/training/TkBzB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKE2o', 'Blitz', 'SaulSoifer', 1635, 'BCS2512', 1636, 'e4,e5,Nf3,d6,Bc4,Be7,h3,Nf6,Nc3,a6,d3,O-O,O-O,Be6,Bxe6,fxe6,Bg5,Nh5,Bxe7,Qxe7,Nxe5,dxe5,Qxh5,Qf6,f4,exf4,e5,Qf5,Qxf5,Rxf5,Rae1,Nd7,d4,Raf8,Ne4,f3,g4,R5f7,Ng5,Rf4,Nxe6', 'f2+,Rxf2,Rxf2,Nxf8,Rxf8', 'https://lichess.org/training/TKE2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tkeD6', 'Blitz', 'Sonstwer', 1674, 'The_Strategist', 1699, 'e4,c6,d4,d5,e5,Bf5,Nc3,Nd7,g4,Bg6,Nge2,e6,h4,h6,Nf4,Bh7,Be3,c5,Bb5,cxd4,Bxd4,a6,Bxd7+,Qxd7,Qe2,Rc8,Nh5,Ne7,f4,Ng6,Qf2,Ne7,Na4,Qxa4,b3,Qc6,c3,Be4,Rh3,b5,Re3,a5,Ng3,Bh7,f5,exf5,gxf5,b4,e6,f6,Rc1,Qd6,c4,dxc4,bxc4,Qxd4,Rd1,Qxc4,Qd2,Qc7,Ne4,Nc6,Nd6+,Bxd6,Rd3,Bg3+,Kf1,Ne5,Rd7,Qc4+,Kg2,Qe4+,Kxg3,Qf3+,Kh2,Qb7', 'Rd8+,Rxd8,Qxd8#', 'https://lichess.org/training/tkeD6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TkF5r', 'Rapid', 'Ayuka_T', 1690, 'prideferrie', 1646, 'e4,c5,d3,Nc6,Nf3,g6,Be2,Bg7,O-O,Nd4,Nc3,e6,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/TkF5r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tKfFP', 'Classical', 'coffeeIsLove', 1604, 'imanimehr2', 1606, 'e4,e5,Nf3,Nc6,Bc4,Na5,d3,Nxc4,dxc4,Qf6,Bg5,Qe6,Nbd2,f6,Bh4,Be7,O-O,Nh6,b3,O-O,Re1,f5,Bxe7,Qxe7,h3,f4,a3,c6,b4,d5,cxd5,cxd5,exd5,b5,c4,bxc4,Nxc4,Bb7,Rxe5,Qc7,Rc1,Rad8,d6,Qf7,Ra5,Bxf3,Qxf3,g5,Rxg5+,Kh8,Qc3+,Qf6,Ra5,Qxc3,Rxc3,Rd7,Rh5,Nf5,g4,fxg3,fxg3,Nxd6,Nxd6,Rxd6,g4,Rd1+,Kg2,Re8,Kf3,Rf8+,Ke2,Rff1,Rg5,Rfe1+,Kf3,Rf1+,Kg3,Rg1+,Kh4,Rd8,Ra5,Rd7,Rg5,Rd8,Rc7,h6,Rgg7,Re1,Rh7+,Kg8,Rxa7,Ree8,Rxh6,Kf8,Rf6+,Kg8,g5,Rd4+,Kh5,Rde4,g6', 'R8e5+,Rf5,Rxf5+,Kh6,Rh4#', 'https://lichess.org/training/tKfFP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tKFGe', 'Rapid', 'kubiks', 2092, 'kalate1378', 1927, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,O-O,Bc5,c3,dxc3,Qd5,Qe7,Nxc3,Nf6,Qd3,Nb4,Qe2,d6,a3,Nc6,Re1,O-O,Nd5,Nxd5,Bxd5,Bg4,Bxc6,bxc6,h3,Bxf3,Qxf3,d5,Bf4,Rae8,e5,Bd4,Qg3,g5,h4,Kh7,hxg5,Rg8,Qd3+,Rg6,Qxd4,hxg5,Bg3,f5,exf6', 'Qxe1+,Rxe1,Rxe1+,Kh2,Rh6+,Bh4,Rxh4+,Qxh4+,gxh4', 'https://lichess.org/training/tKFGe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKfkX', 'Blitz', 'GM Jon_Speelman', 2605, 'IM purzelbaumer', 2394, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e4,d6,d4,O-O,h3,c5,d5,e6,Bd3,exd5,exd5,Re8+,Kf1,Nbd7,g4,Ne5,Nxe5,dxe5,Qf3,b5,Bg5,bxc4,Bxc4,e4,Nxe4', 'Nxe4,Bxd8,Nd2+,Kg2,Nxf3', 'https://lichess.org/training/TKfkX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TkFVV', 'Rapid', 'VLASTIMIR', 1848, 'Alex_1987', 1949, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,d3,Nf6,a4,a6,b4,Ba7,h3,Bh5,Nbd2,O-O,Bb2,d5,exd5,Nxd5,b5,axb5,axb5,Nce7,Qb3,f6,Nh2,Bf7,Ne4,Nf4,d4,exd4,cxd4,Bxc4,Qxc4+,Qd5,Qxd5+,Nexd5,Nc5,Bxc5,dxc5,c6,bxc6,bxc6,Nf3,Nd3,Bd4,N5b4,Rab1,Nc2,Rb6,Nxd4,Nxd4,Nxc5,Rxc6,Ne4,Re1,Ng5,Nf5,g6,Ne7+,Kh8,Rc7,Rfe8,Rd1,Rad8,Rdc1,Ne6,Ra7,Nf8,Rcc7,Rd1+,Kh2,Re1,f3,Re6,Nd5,Rd8,Nf4,Red6,Rf7,f5,h4,R6d7', 'Rxf8+,Rxf8,Rxd7', 'https://lichess.org/training/TkFVV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKFYe', 'Rapid', 'neznakomez', 1858, 'Melkor91', 2081, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,cxd5,Nxd5,Nf3,Nc6,Nc3,e6,Nxd5,exd5,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/TKFYe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKgur', 'Rapid', 'yappay', 1600, 'Canman258', 1767, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,f3,Qxc6,Nc3,Qb6,Bc4,Bf2+,Ke2,Bc5,Qd5,Nh6,Qe5+,Kf8,Nd5,Qe6,Qxe6,dxe6,Nxc7,Rb8,Nb5,a6,Nc3,b5,Bb3,b4,Nd1,a5,Ba4,Ng8,Bf4,Rb7,Ne3,Nf6,Rad1,Ke7,e5,Nd7,Bg5+,f6,exf6+,gxf6,Bh6,Bxe3,Bxe3,Nb6,Bc6,Rc7,Be4,Na4,b3,Nc3+,Kf2,Nxd1+,Rxd1,Rd8', 'Rxd8,Kxd8,Bb6', 'https://lichess.org/training/TKgur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKHiY', 'Blitz', 'gondol_jaran', 2088, 'Aing_Maung1001', 1962, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,e6,O-O,Bd6,h3,O-O,c3,h6,Be3,Nbd7,Nbd2,a6,Rc1,b5,Bb1,Nb6,a3,Bb7,Qc2,Rc8,Ne5,Nc4,Ndf3,Qc7,Ng4,Nxe3', 'Nxf6+,gxf6,Qh7#', 'https://lichess.org/training/TKHiY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TkJTV', 'Blitz', 'sangtea', 1982, 'Adi_Eros', 1952, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Qc7,O-O,Nc6,Nb3,b5,f4,Bb7,Kh1,Be7,Be3,Nf6,N1d2,O-O,Qe2,Rac8,f5,Nb4,fxe6,dxe6,Nd4,e5,Nf5,Nxd3,cxd3,Bb4,a3,Ba5,b4,Bb6,Bxb6,Qxb6,Nb3,g6,Ne7+,Kg7,Qf3,Rc7,Nd5,Nxd5,exd5,Qd6,Nc5,Bxd5,Qf2,f5,h3,Ba8,Rae1,Re7,d4,e4,Qe3,Rd8,Qg5,Ree8,Rxf5,Qxd4,Rff1,e3,Rf4,Qd2,Qf6+,Kg8,Rg1,e2,Ne6,Rd7', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/TkJTV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tKjyH', 'Blitz', 'AlmostGone', 2403, 'IM Odirovski', 2498, 'd4,Nf6,Nf3,d5,c4,c6,cxd5,cxd5,Nc3,Nc6,Bf4,Qb6,Qc1,Bf5,e3,Rc8,a3,e6,Bb5,a6,Bxc6+,Rxc6,O-O,Ne4,Ne5,Nxc3,bxc3,Rc8,Qd2,f6,Nd3,Qa5,Rfc1,Be7,Rab1,b5,a4,bxa4,Rb7,a3,Rxe7+,Kxe7,Nb4,Rc4,g4,Bxg4,Qa2,Bf3,h4,Rg8,Kh2,g5,Kg3,gxf4+,Kxf3,fxe3,Qxc4,dxc4,Nc6+,Kd6,Nxa5,Kd5,fxe3,f5,Ra1,Rg4,Rxa3,Rxh4,Nxc4,Kxc4,Rxa6,Re4,Rc6+,Kd3,c4', 'Rxe3+,Kf2,Kxd4', 'https://lichess.org/training/tKjyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TkL3V', 'Rapid', 'ardefred', 2008, 'BrentShaub', 1738, 'e4,e5,Nf3,d6,Bc4,Nh6,h3,f5,exf5,Bxf5,d3,g6,O-O,Qd7,Bg5,Nf7,Bf6,Nc6,Bxh8,Nxh8,Nc3,O-O-O,Nd2,Bh6,Bb5,Bf4,Nde4,Rf8,Bxc6,bxc6,Ne2,Bxh3,gxh3,Qxh3,Nxf4,Rxf4,Ng3,h5,Qe1,h4,Qe3,hxg3,Qxg3', 'Rg4,Qxg4+,Qxg4+', 'https://lichess.org/training/TkL3V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tKn4t', 'Rapid', 'dubizep', 1692, 'battata', 1779, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,Bd7,e3,a6,cxd5,exd5,Bd3,Bb4,O-O,O-O,a3,Ba5,Re1,Re8,Ne5,Bc8,b4,Bb6,Bb2,c6,e4,dxe4,Nxe4,Nxe4,Bxe4,Nd7,Bxh7+,Kxh7', 'Qh5+,Kg8,Qxf7+', 'https://lichess.org/training/tKn4t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKo55', 'Rapid', 'GregCardona', 1957, 'Floophead_III', 1964, 'c4,Nf6,Nf3,e6,d4,c5,Nc3,cxd4,Nxd4,g6,Ndb5,a6,Nd6+,Bxd6,Qxd6,Nc6,Bh6,Qe7,Qf4,Nh5,Qd2,Ne5,Qd4,d6,g4,Nf6,Bg7,Rg8,Bxf6,Qxf6,Ne4', 'Nf3+,exf3,Qxd4', 'https://lichess.org/training/TKo55');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKo99', 'Rapid', 'dragozel', 1906, 'bartstam', 1778, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Nc6,Bc4,Bg4,h3,Bh5,Be3,e6,O-O,Be7,a3,O-O,b4,Bxb4,axb4,Qxb4,Bxe6,Qxc3,Bb3,Bxf3,gxf3,Rfd8,d5,Nb4', 'Bd4,Qxb3,cxb3', 'https://lichess.org/training/TKo99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tkOP7', 'Rapid', 'greshnik333_ASF', 1836, 'mico_666', 1829, 'e4,c5,b3,Nc6,Bb2,e5,Nf3,Nf6,Nxe5,Nxe5,Bxe5,Be7,Nc3,d5,exd5,Nxd5,Bxg7,Rg8,Be5,Bf6,Qe2,Nxc3,Bxc3+,Be7,Bf6,Be6,Bxe7,Qxe7,O-O-O,Qf6,Kb1,c4,Re1,O-O-O,Qe5,Qxf2,Bxc4,Bxc4,bxc4,Rxd2,Rhf1,Qb6+,Ka1,Rxc2', 'Qf5+,Kb8,Qxc2', 'https://lichess.org/training/tkOP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKPFt', 'Rapid', 'LunarDune', 2042, 'Mistermagoo64', 2067, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Bc4,Nc6,Qd2,Bd7,h4,Ne5,Bb3,h5,f4,Neg4,f5,gxf5,Nxf5,Bxf5,exf5,Nxe3,Qxe3,Ng4,Qg5,Qa5,Qxh5,Bxc3+,bxc3,Qxc3+,Ke2,Qg7,Qg5,Ne5,Qxg7+,Kxg7,Rag1,Kf6,g4,Rh8,Ke3,Rag8,Kf4,Nc6,g5+,Kg7,h5,Nd4,h6+,Kf8,g6,Ne2+,Ke3,Nxg1,g7+,Ke8,gxh8=Q,Rxh8,Rxg1,Rxh6,Rg8+,Kd7,Bxf7,Rh3+,Kf4,Rh4+,Kg5,Rh2,Be6+,Kc6,Rc8+,Kb6,Bb3,Re2,Re8,Kc7,f6', 'exf6+,Kxf6,Rxe8', 'https://lichess.org/training/TKPFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKply', 'Bullet', 'Entelechy83', 2038, 'DronningOfiee', 2074, 'e4,d5,exd5,Nf6,Bb5+,Nbd7,c4,a6,Ba4,b5,Bb3,bxc4,Bxc4,Nb6,Be2,Nbxd5,Nf3,e6,d4,Bb7,O-O,Bd6,Nc3,O-O,Bg5,h6,Bh4,Qd7,Rc1,Rac8,Qd3,Nf4,Qc2,N6d5,Nxd5,Nxe2+,Qxe2,Bxd5,Ne5,Bxe5,dxe5,Qb5,Qg4,Qxb2,Bf6,g6,Qf4,Kh7,Rb1,Qxa2,Rb4,c5', 'Qxh6+,Kxh6,Rh4#', 'https://lichess.org/training/TKply');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tkq3D', 'Rapid', 'bebe_elephant', 1603, 'teas84', 1648, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,a6,Bc4,Nbd7,Ng5,b5,Bxf7+,Ke7,Bb3,b4,Nd5+,Nxd5,Bxd5,Rb8,Nf7,Qa5,O-O,Rg8,Bb3,Nb6,Qxd6+,Ke8,Qd7+,Kxd7,Rd1+,Ke7', 'Bg5+,Ke8,Rd8#', 'https://lichess.org/training/tkq3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tKQtl', 'Blitz', 'aabejaranoh', 1886, 'janakstha84', 1792, 'd4,e5,dxe5,Bc5,Nf3,Nc6,e3,Nh6,Bd3,d6,exd6,Qxd6,Nbd2,O-O,b3,Bf5,Bxf5,Nxf5,O-O,Qf6,Rb1,Qg6,Bb2,Bd6,Nc4,Rad8,Nxd6,Rxd6,Qe2,Rfd8,Rfd1,f6,Rxd6,cxd6,Qc4+,Kf8,Qb5,Ne5,Nxe5,fxe5,Qxb7,Nh4,g3,Qxc2,Rf1,Qxb2,gxh4,Qxa2,Qc7,Ke8,Qxg7,Rd7,Qh8+,Ke7,Qxh7+,Ke6,Qg8+,Kf6,Qg5+,Ke6,Qg4+,Ke7,Qg7+,Kd8,Qf8+,Kc7,Rc1+,Kb6,Qb8+,Ka5,b4+,Ka4,Qc8,Rg7+,Kh1', 'Qd5+,e4,Qxe4+,f3,Qxf3#', 'https://lichess.org/training/tKQtl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKqTx', 'Blitz', 'notgoodatchess24', 1656, 'biga570', 1719, 'e4,c5,Nf3,e6,c3,Nc6,d4,cxd4,cxd4,d5,Bg5,Be7,Bxe7,Ngxe7,e5,O-O,Bd3,a6,Qc2,h6,Nbd2,Nb4,Qb3,Nxd3+,Qxd3,b5,h4,Nf5,g4,Ne7,Ng5,Ng6,h5,Qxg5,Nf3,Nf4,Qc2,Ng2+,Kf1,Qxg4,Rg1,Qxf3,Rxg2,Qxh5,Qd2,Bb7,Kg1,Rac8,Rh2,Qf5,Kh1,Rc4,Rg1,Kh7,Rg5,Qe4+,Kg1,Rxd4,Rxg7+,Kxg7', 'Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/TKqTx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKQuY', 'Rapid', 'iltersinan', 1905, 'superace', 1998, 'e4,d5,Nc3,d4,Nce2,Bg4,h3,Bh5,d3,e5,f4,Qh4+,g3,Bxe2,gxh4,Bxd1,Kxd1,f6,Nf3,Nc6,Rg1,O-O-O,b3,g6,a4,Bb4,fxe5,fxe5,Ng5,Rf8,Be2,Bc3,Rb1,Rf6,Rf1,Rxf1+,Bxf1,Nd8,Bd2,Bxd2,Kxd2,h6,Nf3,Nc6,b4,Nge7,b5,Nd8,Nxe5,Rf8,Be2,Ne6,Rf1,Nf4,Nf3,c5,Ne5,b6,h5,g5,Ng6,Nexg6,hxg6,Nxg6,Rxf8+,Nxf8,c3,Kc7,c4,Ne6,Bg4,Nf4,Bf5,Kd6,Kc2,Ke5,Kd2,h5,Kc2,Ne2,Kb3,Kf4,Kc2,Nc3,Kb3,Ke3', 'e5,Kf4,e6,Kxf5,e7', 'https://lichess.org/training/TKQuY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tkRrO', 'Rapid', 'ZuiZuiZ', 1953, 'PlanJott', 1965, 'e4,e5,f4,exf4,Bc4,g5,h4,d6,hxg5,Qxg5,Nf3,Qg3+,Kf1,Bg7,Nc3,Be6,Be2,Bxc3,dxc3,Nc6,Bd2,O-O-O,Be1,Qg7,Nd4,Nf6,Nxc6,bxc6,Qd4,Kd7,e5,Bd5,Bf3,Ng4', 'e6+,Bxe6,Qxg7', 'https://lichess.org/training/tkRrO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tkt7T', 'Blitz', 'abcdefgh96', 1849, 'CaPaNeGrA2020', 1776, 'd4,d5,Bf4,Nf6,e3,c6,Nd2,Bg4,Ngf3,e6,Bd3,Bd6,Bg3,h6,c3,a5,e4,dxe4,Nxe4,Nxe4,Bxe4,Bf5,Bxf5,exf5,Qe2+,Kf8,Bxd6+,Qxd6,O-O,Nd7,Ne5,Nxe5,Qxe5,Qxe5,dxe5,Ke7,Rad1,Rhd8,f4,Rxd1,Rxd1,g5,Kf2,g4,Kg3,Rd8', 'Rxd8,Kxd8,Kh4,Ke8,Kh5', 'https://lichess.org/training/tkt7T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tKw00', 'Rapid', 'Sergey777Chess', 2219, 'lebeusz', 2200, 'Nf3,c5,e4,Nc6,Bb5,Nd4,Nxd4,cxd4,c3,Nf6,e5,Nd5,cxd4,Qb6,Qa4,a6,Bf1,e6,Nc3,Nb4,a3,Nc6,d5,Nxe5,d4,Ng6,Bd3,Bd6,dxe6,fxe6,O-O,Nf4,Bxf4,Bxf4,Qc2,Qxd4,g3,Be5,Rad1,Qg4,Na4,b5,Nb6,Bb7,Bxh7,Qf3,Qg6+,Kf8,Nxd7+,Ke7,Qg5+,Bf6,Qc5+,Kf7,Ne5+,Bxe5', 'Rd7+,Kf6,Qe7#', 'https://lichess.org/training/tKw00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tkwFs', 'Classical', 'Davalmir', 1715, 'SolarDream', 1766, 'd4,Nf6,c4,e6,Nf3,d5,e3,c5,cxd5,Nxd5,e4,Nf6,d5,Nxe4', 'Qa4+,Bd7,Qxe4', 'https://lichess.org/training/tkwFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tkxxz', 'Rapid', 'ragipkaratepe', 1668, 'DarkStrategist', 1696, 'b3,d5,Bb2,Nc6,e3,e5,Nf3,e4,Nd4,Bd7,Nc3,Nxd4,exd4,Nf6,Qe2,Qe7,O-O-O,g6,Qe3,Bg7,Re1,Ng4,Qg3,O-O,Nxd5,Qd6,Qxd6,cxd6,f3,exf3,gxf3,Nf6,Nxf6+,Bxf6,Bg2,Rac8,Re2,Bf5,d3', 'Bxd3', 'https://lichess.org/training/Tkxxz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TkyJc', 'Classical', 'rzgrklnc', 1769, 'lalmicharaf', 1959, 'e4,d6,d4,Nf6,Nc3,g6,Be3,Ng4,Qd2,Nxe3,Qxe3,Bg7,h4,h5,Be2,O-O,f3,f5,exf5,Bxf5,O-O-O,Kh7,Qf2,e5,dxe5,Bxe5,Kb1,Qf6,g4,Bxg4,Ne4,Qf4,Nh3,Bxh3,Rxh3,Qxe4,Bd3,Qf4,c3,Nd7,Rg1,Rf6,Rg5,Kh6,Rh1,Nc5,Bc2,Qxf3', 'Rxg6+,Rxg6,Qxf3', 'https://lichess.org/training/TkyJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TKYUx', 'Rapid', 'el_janglon', 2306, 'raised-up', 2238, 'e4,g6,d4,Bg7,c3,d5,e5,c5,Bd3,Nc6,Be3,Nh6,Nd2,cxd4,cxd4,O-O,Ne2,Bf5,Bxh6,Bxd3,Bxg7,Kxg7,Nb3,Bxe2,Qxe2,Qb6,Qd2,a5,O-O,Rfd8,e6,fxe6,Rfe1,Rd6,Nc5,Nb4,Qe2,Kg8,Nxe6,Nc2,Qe5', 'Rxe6,Qxe6+,Qxe6', 'https://lichess.org/training/TKYUx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TkZCC', 'Rapid', 'Masoretes', 2009, 'lthiagos', 2075, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,h3,e5,dxe5,Nxe5,Qe2,Qe7,Bb5+,Bd7,Bxd7+,Nexd7,Be3,a6,Nf3,O-O-O,O-O,Nc5,b4,Nce4,Rc1,Kb8,a3,Nd6,a4,Nc4,b5,a5,Nbd2,Nxe3,fxe3,Ne4,Nb3,g6,Nxa5,Bg7,Nd4,Nxc3,Nac6+,Ka8,Rxc3,bxc6,bxc6,Bxd4,Qa6+,Ba7,c7,Rc8', 'Qc6#', 'https://lichess.org/training/TkZCC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tL0S0', 'Rapid', 'MSaihu', 1965, 'jankes03', 1918, 'e4,e5,Nf3,Nf6,Nc3,Bc5,d3,d6,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,Be2,O-O,c3,c6,Ne3,f5,d4,exd4,cxd4,Bb4+,Nd2,fxe4', 'Qb3+,d5,Qxb4', 'https://lichess.org/training/tL0S0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tL0TX', 'Blitz', 'LDago', 2308, 'kosmidis', 1713, 'd4,e6,Nf3,d5,c3,c5,Bg5,Be7,Bf4,Nc6,e3,Bd7,Nbd2,Nf6,Bd3,O-O,O-O,h6,Ne5,Re8,Bg3,Bd6,f4,Be7,Ndf3,cxd4,exd4,Nxe5,fxe5,Nh7,Bc2,Bb5,Rf2,Bg5,a4,Ba6,Qe1,f6,exf6,Qxf6,Ne5,Qd8,Nf7,Qe7,Be5,Rf8,Nxg5,Nxg5,h4,Ne4,Bxe4,dxe4,Qxe4,Rxf2,Kxf2,Rf8+,Kg1,Bc4,Re1,Bd5,Qg4,Rf5,Re3,Qf8,Bg3', 'Rf1+,Kh2,Rh1+,Kxh1,Qf1+,Kh2,Qxg2#', 'https://lichess.org/training/tL0TX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tl10X', 'Rapid', 'retyanto', 1934, 'portley', 1935, 'e4,e6,d4,c6,Bd3,d5,e5,c5,c3,Nc6,Ne2,Bd7,O-O,Nge7,f4,Nf5,Bxf5,exf5,Be3,cxd4,Nxd4,Nxd4,Bxd4,Be6,Nd2,Be7,Qe2,O-O,g4,f6', 'exf6,Bxf6,Qxe6+', 'https://lichess.org/training/tl10X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tL13m', 'Blitz', 'achister', 1632, 'smidasek', 1643, 'd4,g6,e4,Bg7,Nf3,b6,Nc3,Bb7,Be3,c6,Qd2,e6,Bh6,Bxh6,Qe2,Ne7,g4,d6,g5,Bg7,Bh3,O-O,O-O-O,d5,e5,Nd7,Bg4,Nf5,h4,c5,h5,Nxd4,Nxd4,cxd4,Rxd4,Nxe5,hxg6,fxg6,Bxe6+,Nf7,f4,Bxd4,Qh2,Re8', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/tL13m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tL1O6', 'Rapid', 'G0lddYukatsuy0G0ldd', 1794, 'akatsuki19', 1750, 'a3,e5,c4,Nf6,Nc3,d5,e3,Nc6,cxd5,Nxd5,Bb5,a6,Bxc6+,bxc6,d4,Nxc3,bxc3,Bb7,Nf3,exd4,Nxd4,c5,Ne2,Qxd1+,Kxd1,Rd8+,Bd2,Bd6,f3,O-O,c4,f5,Nf4,Bxf4,exf4,Rd4,Rb1,Bc6,Ke2,Re8+,Be3,Rxc4,Rhc1,Ra4,Rxc5,Bb5+,Kf2,Rxa3,Re1,c6,Rxf5,Ra2+,Kg1,a5,Re5,Rd8,Bb6,Rf8,f5,a4,Bc5,Rc8,Re8+,Rxe8', 'Rxe8+,Kf7,Rf8#', 'https://lichess.org/training/tL1O6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TL1tH', 'Blitz', 'AdvocatusDei', 1897, 'Deepminds', 1878, 'd4,b6,c4,Bb7,Nc3,Nf6,Qc2,e6,a3,Be7,e4,d5,e5,Nfd7,cxd5,exd5,Bd3,O-O,Bxh7+,Kh8,Bf5,c5,e6,fxe6,Bxe6,cxd4,Qg6,Nf6,Nce2,d3,Nf4,d4,Nh5,Rg8,Bf5,Nbd7,Bg5,Qe8,Bxf6,Qxg6,Bxg6,Nxf6,Nf3,Bxf3,gxf3,Rae8,Bxe8,Rxe8,Nxf6,Bxf6+,Kd2,Re2+,Kxd3,Rxb2,Rab1,Rxf2,h4,Rxf3+,Ke4,Re3+,Kf5,Rxa3,Kg6,d3,Rbc1,Rc3,Rxc3,Bxc3,Rc1,d2', 'Rxc3,d1=Q,Rc8+,Qd8,Rxd8#', 'https://lichess.org/training/TL1tH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tl1Y6', 'Rapid', 'PhilCollins07', 1662, 'Behtat', 1721, 'd4,g6,c4,Bg7,Nf3,d6,e4,Bg4,Be2,Bxf3,Bxf3,e5,dxe5,Bxe5,O-O,Nc6,Qd3,Nge7,a3,f5,Nc3,Nd4,b4,O-O,Bh6,Rf7,Rad1,fxe4,Nxe4,Nxf3+,gxf3,Nf5,Bg5,Qd7,f4,Bd4,Ng3,Nxg3,Qxg3,c5,bxc5,dxc5,h4,Re8,Qh2,Re2,h5,Qg4+,Qg2,Qxh5,Qd5,Qg4+,Qg2,Qxg2+,Kxg2,Kg7,Rb1,b6,a4,h6,Bd8,Rxf4,Bc7,Rfxf2+,Rxf2,Rxf2+,Kg3,Ra2,Re1,Rxa4,Re7+,Kf6,Bd8,Ra3+', 'Re3+,Kf5,Rxa3', 'https://lichess.org/training/tl1Y6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TL70d', 'Rapid', 'utkuberk', 1688, 'Chirag45', 1764, 'd4,Nf6,Nf3,d5,Bf4,Bf5,c4,c6,e3,e6,a3,Bd6,Bg5,O-O,c5,Be7,h3,h6,Bf4,b6,b4,Nh5,Be5,Nd7,Bh2,bxc5,bxc5,Qa5+,Nbd2,Rab8,Be2,Be4,Bxb8,Rxb8,O-O,Nhf6,Nxe4,Nxe4,Bd3,Ndf6,Ne5,Qc7,Rb1,Rc8,Qc2,Bxc5,Nxf7,Kxf7,dxc5,Qa5,Rb7+,Kg8,Qb2,Nxc5,Rb8,Rxb8,Qxb8+,Kf7,Bb1,Qxa3,Qd6,Nfd7,Qxc6,Qa5,Bc2,Qa2,Ba4', 'Qxa4,Qxa4,Nxa4', 'https://lichess.org/training/TL70d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tL8u0', 'Rapid', 'Storm09', 1900, 'TbirdV', 1928, 'e4,e6,d4,d5,exd5,exd5,c3,Nf6,Nf3,Nc6,h3,Be6,Bb5,Qd6,Bg5,Be7,Nbd2,h6,Bh4,g5,Bg3,Qd7,Ne5,Qd8,Nxc6,bxc6,Bxc6+,Bd7,Bxa8,Qxa8,O-O,O-O,Bxc7,Qb7,Be5,Qxb2,Qc1,Qb5,Rb1,Qc6,Nb3,Bf5,Rb2,Ba3,g4,Bxb2,Qxb2,Bg6,Nc5,Ne4,Nxe4,Bxe4,f3,Bd3,Rd1,Bc4,a3,a6,Qb4,Be2,Qd6', 'Qxd6,Bxd6,Bxd1', 'https://lichess.org/training/tL8u0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TlaiZ', 'Rapid', 'SAGAFADES676', 2017, 'Salanum', 1893, 'e4,c6,f4,d5,e5,e6,Nf3,c5,c3,Nc6,Bd3,Bd7,O-O,Nh6,b3,Be7,Bb2,O-O,Qc2,g6,c4,d4,Na3,Nb4,Qb1,Nxd3,Qxd3,Bc6,Nc2,Nf5,b4,b6,a4,Qc7,b5,Bb7,Qa3,Rfd8,a5,bxa5,Qxa5,Qxa5,Rxa5,a6,b6,Rd7,Ba3,Rc8,g4,Ng7,Nce1,Rc6,Nd3,Bd8,Nxc5,Re7,Nxd4,Bxb6,Nxb7', 'Bxd4+,Kg2,Rxb7', 'https://lichess.org/training/TlaiZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tlAU6', 'Classical', 'Kiddomania', 1902, 'Chesskganya', 1727, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,Qe2+,Qe7,Qxe7+,Bxe7,O-O,O-O,Bf4,c6,Re1,Re8,Nbd2,Nbd7,Ne5,h6,Re2,Nxe5,Bxe5,Be6,Rae1,Nd7,Bg3,Nf6,Nf3,Kf8,h3,Rad8,a4,Bd6,Ne5,Bc8,c3,a5,b3,Kg8,c4,Bxe5,Bxe5,dxc4,bxc4,Bd7,Bc7,Rxe2,Rxe2,Ra8,Re5,Ne8,Rxa5', 'Nxc7,Rxa8+,Nxa8', 'https://lichess.org/training/tlAU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TLBJa', 'Rapid', 'StarkerSpringer', 2097, 'Jazzit', 2099, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,Bg5,Be7,Nc3,O-O,O-O,a6,a4,Re8,Rae1,c5,Qd2,h6,Bh4,Ng4,Bxe7,Qxe7,h3,Ne5,Bd5,Rb8,f4,Ng6,e5,dxe5,fxe5,Be6,Qf2,b5,axb5,axb5,Bc6,Red8,Bxb5,Rb6,Bd3,Rxb2,Bxg6,fxg6,Ne4,Bf5,g4,Bxe4,Rxe4,Rd5,e6,Rb7,Qf7+,Qxf7', 'exf7+,Rxf7,Re8+,Kh7,Rxf7', 'https://lichess.org/training/TLBJa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TlCBd', 'Rapid', 'Wergtagsspieler', 1996, 'SiegriedSoervis', 2263, 'd4,Nf6,c4,e5,dxe5,Ne4,Nf3,Nc6,a3,d6,exd6,Bxd6,Qc2,Bf5,Nc3,Ng3,e4,Nxh1,exf5,O-O,Be3,Be5,Bd3,Nd4,Nxd4,Bxd4,O-O-O,Bxe3+,fxe3,Qg5,Qe2,Rfe8,Ne4,Qh4,g3,Nxg3,hxg3,Qh6,Qf3,Re5,g4,Rae8,Kb1,Qc6,b4,Qa4,Kb2,h6,g5,Rxe4,Bxe4,Rxe4,Qxe4,Qxd1', 'Qe8+,Kh7,g6+,fxg6,fxg6#', 'https://lichess.org/training/TlCBd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TlCtl', 'Rapid', 'Jorlu', 1683, 'mhummel', 2033, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,d6,Nxc6,bxc6,Bd3,Be7,O-O,O-O,f4,Re8,h3,Nd7,Qh5,Nf8,g4,Bf6,g5,Bd4+,Kg2,g6,Qh4,Rb8,f5,gxf5,exf5,Bg7,f6,Bh8,b3,c5,Nd5,Bb7,Bc4,Bxd5+,Bxd5,Rb4,Qg3,Re5,Qf3,Ng6,c3', 'Nh4+,Kg3,Nxf3', 'https://lichess.org/training/TlCtl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tleB2', 'Rapid', 'fabrice15200', 1844, 'andyhoff', 1670, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,g6,Be3,Bg7,Qd2,Ne5,f3,Bd7,Be2,a6,f4,Nc6,O-O-O,e5,Nxc6,Bxc6,f5,Bf8,g4,Nf6,Rhf1,Nxe4,Nxe4,Bxe4,fxg6,hxg6,h4,Qxh4,Qb4,Bc6,Bc4,d5,Qc3,dxc4,Qxe5+,Qe7', 'Qxh8,Qxe3+,Kb1', 'https://lichess.org/training/tleB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tlf4i', 'Blitz', 'AlexeySigal', 1671, 'Vinetou', 1754, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Nf6,Bd2,e6,Bc4,Bd6,O-O,Qc7,Re1,O-O,h3,Re8,Bg5,Nbd7,Ne4,Be7,Ne5,Nxe5,Nxf6+,Bxf6,Bxf6,Nxc4,Qg4,g6,Qh4,Qd6,d5,cxd5,b3,Nb6,Re5,Qf8,Rh5,Nd7', 'Rxh7,Nxf6,Rh8+,Kg7,Qh6#', 'https://lichess.org/training/tlf4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TlFdM', 'Blitz', 'MoonEyes47', 1852, 'MademoiselleColette', 1781, 'e4,e6,f4,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,O-O-O+,Bd2,Bb4,Nf3,Nf6,e5,Nd5,Nxd5,Bxd2', 'Ne7+,Kd7,Nxc6,Kxc6,Nxd2', 'https://lichess.org/training/TlFdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TlGeF', 'Rapid', 'shashank__mp', 1807, 'aria41', 1713, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,Bd7,d3,g6,Nbd2,Bg7,Re1,e5,Nc4,Bg4,b4,cxb4,d4,exd4,e5,dxe5,Ncxe5,Bxe5,Nxe5,Bxd1,Nxc6+,Ne7,Nxe7+,Kf8', 'Bh6#', 'https://lichess.org/training/TlGeF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tLHE5', 'Classical', 'urusovit', 1721, 'federico64', 1777, 'e4,e6,d4,d5,e5,c5,c4,Nc6,Nf3,cxd4,Nxd4,Nxe5,Nc3,Bb4,Qa4+,Bd7,Qxb4,Rb8,cxd5,a5,Qb3,exd5,Bf4,f6,Ndb5,Bc6,Na7,Ne7,Nxc6,bxc6,Qc2,O-O,Be2,N7g6,Bd2,d4,Na4,d3,Bxd3,Nxd3+,Kf1,Nge5,b3,Nb4,Bxb4,axb4,Rd1,Qc7,Nc5,Qa5,f4,Qb5+,Kg1,Rbd8,Rxd8,Rxd8,fxe5,Rd5,Na4,Rxe5,h3', 'Re1+,Kf2,Rxh1', 'https://lichess.org/training/tLHE5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tlIao', 'Rapid', 'Bauerndiplom', 1896, 'pyp0614', 1952, 'e4,e5,Nc3,Nc6,f4,d6,Nf3,Nf6,Bc4,Be7,d3,O-O,O-O,exf4,Bxf4,Na5,Bb3,Nxb3,axb3,h6,Nd4,a6,Nf5,Bxf5,exf5,Re8,Qf3,c6,Rae1,Bf8,Bg3,d5,Rxe8,Qxe8,Re1,Bc5+,Bf2', 'Qxe1#', 'https://lichess.org/training/tlIao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tliTY', 'Blitz', 'Tierness', 1506, 'Alex806321', 1567, 'f4,d5,d4,Nc6,e3,Bf5,Nf3,e6,Bd3,Bxd3,cxd3,Nf6,Nc3,Be7,O-O,Qd7,a3,O-O-O,b4,a6,b5,axb5,Nxb5,Na5,Bd2,Qxb5,Rb1,Qa6,Bxa5,Qxa5,Qb3,b6,Ne5,Rd6,a4,Rf8,Rfc1,Nd7,Nc6,Qa8,Nxe7+,Kd8,Nc6+,Kc8,Qc2,Nb8,Ne5,Na6,Nc4,Rc6', 'Nxb6+,cxb6,Qxc6+,Qxc6,Rxc6+', 'https://lichess.org/training/tliTY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tlkAZ', 'Rapid', 'Bishwaranjan', 1746, 'Vengs', 1693, 'e4,b6,Bc4,Bb7,d3,e6,Nf3,Nf6,O-O,d5,exd5,Nxd5,Bxd5,Bxd5,c4,Bb7,Nc3,Nd7,Bf4,Bd6,Qd2,h6,Nb5,e5,Rfe1,Qe7,d4,f6,dxe5,fxe5,Nxd6+,cxd6,Nd4,O-O,Bg3,Qf7,Nb5,Nf6,Qxd6,Ne4,Qxe5,Nxg3,Qxg3,Rad8,Rad1,Qxc4,Rxd8,Rxd8,Nc3,Kh7,h3,Rd2,b3,Qd4,Ne2', 'Rxe2,Rxe2,Qd1+,Kh2,Qxe2', 'https://lichess.org/training/tlkAZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tLKhG', 'Blitz', 'CM HashemElnami', 2150, 'Bibi1010', 2156, 'Nf3,c6,g3,d5,Bg2,Nd7,d3,e5,O-O,Bd6,Nbd2,Qc7,e4,Ngf6,Re1,O-O,c3,Re8,a4,a5,exd5,cxd5,c4,e4,dxe4,dxe4,Nd4,Nc5,Nb5,Qb6,Nb1,Bg4', 'Qxd6,Qxd6,Nxd6', 'https://lichess.org/training/tLKhG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TlKQh', 'Rapid', 'Prash_KT', 1846, 'Gerasio', 1743, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,a6,Nc3,c6,Be3,h6,Bd3,Be7,O-O,Nf6,Re1,O-O,Qd2,Ng4,h3,Nxe3,Rxe3,Nd7,Rg3,Kh8,Nf5,Bf6,Nxh6,Ne5,Nf5,Bxf5,exf5,Bh4,Re3,Bg5,Rae1,f6,Qd1,Bxe3,Rxe3,Nf7,Qh5+,Nh6,Ne2,Qd7,Nf4,Rfe8,Rg3,Qf7,Ng6+,Kg8,Rg4,d5,Rg3,Re1+,Kh2,Qc7,Nh4,Re7,Qxh6', 'Qxg3+,Kxg3,gxh6', 'https://lichess.org/training/TlKQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tlMoc', 'Blitz', 'Napoleone1988', 1506, 'chakchemboulaa', 1593, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Qf3,Qf6,Qxf6,Nxf6,Nc3,O-O,O-O,d6,Na4,Bb6,b3,a6,Bd3,Bd4,Bb2,Bxb2,Nxb2,Re8,Nc4,Nxe4,Rfe1,d5,Bxe4,dxe4,Nd2,Bf5,h3,h5,Nc4,Rad8,Rad1,Rxd1,Rxd1,Bg6,Rd7,f5,Rxc7,Re6,Ra7,c5,c3,f4,a3,e3,fxe3,fxe3,Ra8+,Kh7,Kf1,Bd3+,Ke1,e2,Nd2,Rg6,Rd8,Bc2,Kxe2,Rxg2+,Ke3,Rg3+,Kf4,Rxc3,Ra8,Rxh3,Rxa6,Bxb3,Ne4,c4,Kg5,c3,Ra7,c2', 'Nf6+,Kh8,Ra8+,Bg8,Rxg8#', 'https://lichess.org/training/tlMoc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tLMvX', 'Rapid', 'monet566', 1730, 'alexandresilva83', 1786, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,h3,Nbd7,Bd3,e5,d5,c6,O-O,Nb6,a3,Bd7,Bg5,Qc8,Kh2,Nh5,Be7,Re8,Bxd6,Nf4,Nxe5,Bxe5,Bxe5,Rxe5,dxc6,Bxc6,Nd5,Nbxd5,exd5,Bd7,Qf3,Nxd3,Qxd3,Qe8,b4,Bf5,Qc3,b6,Rfd1,Re2,f3,Rc2,Qd4,Qe2,Rg1,Rxc4,Qf6,Rac8,d6,R4c6,Rae1,Qb5,Re7,Rf8,Rge1,Qd5,Re8,Rxd6', 'Rxf8+,Kxf8,Qh8#', 'https://lichess.org/training/tLMvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tlnlh', 'Classical', 'donmassoni', 1757, 'kvikos', 1624, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,e6,Nf3,Nb6,Bb3,Bb4,O-O,c5,d3,Bxc3,bxc3,Qc7,Re1,O-O,Bb2,Rd8,Qe2,a5,Ng5,Qf4,Nxe6,fxe6,Bxe6+,Bxe6', 'Qxe6+,Qf7,Qxb6', 'https://lichess.org/training/tlnlh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tLov0', 'Blitz', 'Doritoscuadrados', 1945, 'sdgmklg', 1952, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,gxf6,c3,f5,f3,O-O,Bd3,f4,O-O,Kh8,Kh1,Rg8,Rg1,Rg6,c4,b4,Nc2,a5,b3,Be6,a3,Bxd5,exd5,Nd4,Bxg6,fxg6,Nxd4,exd4,Qxd4+,Bf6,Qd2,Bxa1,Rxa1,Qf6,Ra2,bxa3,Rxa3,Ra7,Rxa5', 'Qa1+,Rxa1,Rxa1+,Qc1,Rxc1#', 'https://lichess.org/training/tLov0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tLqml', 'Blitz', 'anugrahsetyo', 1816, 'Am12R', 1772, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,a4,Bc5,Be3,Nf6,f3,Nxd4,Bxd4,Ba7,Bxa7,Rxa7,Qd4,Ra8,Bc4,O-O,O-O-O,b5,axb5,axb5,Bxb5,Ra1+,Kd2,Rxd1+,Rxd1,Qa5,b4,Qc7,e5,Nd5,Nxd5,exd5,Qxd5,Bb7,Qd6,Qc8,Bxd7,Qa8,Ke2,Ba6+,b5,Bc8,Bc6,Qa2,Rd2,Bf5,Bd5,Qa5,Bc6,Qb6,c4,Qg1,Qxf8+,Kxf8', 'Rd8+,Ke7,Re8#', 'https://lichess.org/training/tLqml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tlrbu', 'Rapid', 'kushalpadmarg', 2109, 'Preci0ux', 2086, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,c6,cxd5,Nxd5,Nf3,Bg4,Be2,Nxc3,bxc3,Qa5,Bd2,Qd8,O-O,Bd6,Re1,O-O,h3,Bh5,c4,Nd7,c5,Bc7,Ng5,Bg6,Bc3,Nf6,h4,Nd5,Bb2,Qf6,Bf3,Nf4,Qb3,Rab8,d5,Qf5,d6,Bd8,Re5,Qd3,Rae1,Qxb3,axb3,Nd3,Re8,Nxb2,d7,Nd3', 'Rxf8+,Kxf8,Re8#', 'https://lichess.org/training/Tlrbu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TlS0d', 'Blitz', 'JesusIsTheKing', 2226, 'maur_ago', 2116, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,e3,O-O,b3,b6,Bb2,Bb7,Bd3,Nbd7,O-O,c5,Re1,Rc8,Qc2,cxd4,exd4,h6,Ne5,dxc4,bxc4,Nxe5,dxe5,Nd7,Ne4,Nc5,Nd6,Bxd6,Bh7+,Kh8,Rad1,Qg5,f4,Qxf4,exd6,f5,Bg6,Ne4,d7,Rcd8,Bh5,Qg5,Bf3,Nc5,Bxb7,Nxb7,Rxe6,Nc5,Red6,Qe3+,Qf2', 'Qxf2+,Kxf2,Ne4+,Kf3,Nxd6', 'https://lichess.org/training/TlS0d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TlT7Z', 'Rapid', 'grifoman', 1653, 'CTkiller', 1819, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,e6,a3,a6,Nf3,c5,Bd3,cxd4,Nxd4,Qxd4', 'Bb5+,axb5,Qxd4', 'https://lichess.org/training/TlT7Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tlTIe', 'Rapid', 'NietzscheTarrasch', 2003, 'SteiGte', 2117, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,Bd6,Bg3,O-O,Nbd2,a6,c3,b5,Bd3,Bb7,Ne5,c5,O-O,Nc6,f4,cxd4,exd4,b4,Ndf3,Ne4,Bh4,f6,Nxc6,Bxc6,Ne5,Bb7,Bxe4,dxe4,Nc4,Be7,Ne3,Rc8,c4,Qd7,Qd2,Rfd8,Rad1,Qa4,b3,Qa5,Bf2,f5,Qb2,Bf6,Nc2,Qc7,Be3,a5,Rd2,Qe7,Rfd1,Kh8,a3,h6,axb4,axb4,Qc1,g5,Ne1,Qc7,fxg5,hxg5,g3,f4,gxf4,gxf4,Rg2,fxe3,Qxe3,Rg8', 'Qh6+,Qh7,Qxf6+', 'https://lichess.org/training/tlTIe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tLUaN', 'Rapid', 'greasytoaster', 1774, 'mamitiana', 1755, 'e4,c6,d4,d5,e5,e6,Bd3,Bb4+,Bd2,a5,a3,Bxd2+,Nxd2,Ne7,Nh3,Ng6,Qh5,Kd7,Ng5,Qf8,Rf1,Kc7,Nb3,Nd7,O-O-O,b6,g3,Ba6,Bxa6,Rxa6,f4,h6,Nxe6+,fxe6,Qxg6,h5,f5,Rh6,Qg5,exf5,Rxf5,Qg8,Rdf1,Ra8,Qe7,Re6,Qg5,g6,Rf7,Rf8,Rxf8,Nxf8,Rf6', 'Nh7,Qf4,Nxf6', 'https://lichess.org/training/tLUaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TlvKp', 'Rapid', 'brotherkow', 1776, 'ANUBIS1708', 1788, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bg5,O-O,Qd2,f6,Bc4+,e6,Bh6,Bxh6,Qxh6,c5,Ne2,Nc6,Rd1,cxd4,cxd4,a6,a3,b5,Ba2,Qa5+,Kf1,Qxa3,Bb1,e5,d5,Na5,d6,Bg4,f3,Qb3,Qc1,Be6,Kf2,Rac8,Qd2,Nc4,Qc2,Qe3+,Ke1,Rfd8,Rd3,Qg5,Rg1,Qh4+,Ng3,Qxh2,Kf2,Rd7', 'Rh1,Qxh1,Nxh1', 'https://lichess.org/training/TlvKp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tLxli', 'Blitz', 'CM ventdelest', 2347, 'Karapuzik1979', 2351, 'e4,e6,d4,d5,Nc3,Bb4,e5,Ne7,Bd2,b6,Nce2,Bxd2+,Qxd2,Ba6,Ng3,Bxf1,Nxf1,c5,c3,Nbc6,Ne2,Nf5,Nfg3,Nce7,O-O,Rc8,Rac1,O-O,Qg5,h6,Qf4,Qd7,Nxf5,Nxf5,Ng3,Nxg3,Qxg3,Qa4,a3,cxd4,Qf4,Rc4,Qd2,dxc3,Rxc3,Rfc8', 'b3,Rxc3,bxa4', 'https://lichess.org/training/tLxli');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tlYjq', 'Classical', 'orbitedelaterre', 1782, 'rensenbink', 1732, 'e4,e5,Nc3,Nf6,f4,exf4,d4,c5,d5,d6,Bxf4,Be7,Bb5+,Bd7,Qe2,a6,Bd3,b5,Qf2,Ng4,Qg3,Bg5,Bxd6', 'Bh4,Qxh4,Qxh4+', 'https://lichess.org/training/tlYjq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TlYZE', 'Rapid', 'blackwinger', 1856, 'Sfide_Mentali', 2124, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qxe4+,Qe2,Qxe2+,Kxe2,Bg4,h3,Bh5,d3,c5,Bf4,O-O-O,Nd2,h6,Rhe1,Bd6,Bxd6,Rxd6,Kf1,Nf6,Ne5,Nd5,a3,f5,Nec4,Rf6,Re5,c6,Rae1,Rhf8,Re6,Rxe6,Rxe6,g5,Rxh6,Bd1,c3,g4,hxg4,fxg4,g3,b5,Rxc6+,Kb7,Na5+,Ka7,Rxc5,Nb6,Rc7+,Ka8,Nc6,Nc8,Ne4,Bf3,Nc5,Rh8,Ke1,a5,Nxa5,Nd6,Nc6,Bxc6,Rxc6,Nf7,Ra6+,Kb8,Rb6+,Ka7,Rxb5,Ne5,Ke2,Nf3,Kd1,Rh2,Ne4,Ka6,c4,Rh1+,Kc2,Nd4+,Kc3,Nxb5+,cxb5+,Kxb5,Nf6,Rc1+,Kd2,Rb1,Kc2,Rh1,Nxg4,Rh8,Kd2,Ka4,d4,Kb3,Kc1,Rd8,Ne3,Rxd4,Nc2', 'Rc4,Kd2,Rxc2+', 'https://lichess.org/training/TlYZE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tlyzL', 'Rapid', 'adorna', 1714, 'Kerachi', 1769, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,Rb8,c3,b5,Bb3,d5,exd5,exd5,O-O,Be7,Re1,h6,Be3,c4,dxc4,bxc4,Ba4,Bd7,Bxc6,Bxc6,Ne5,Qd6,Nxc6,Qxc6,Bd4,Nf6,Bxf6,Qxf6,Qa4+,Kf8,Qxa7,Rxb2,Qa8+,Bd8,Qxd5', 'Qxf2+,Kh1,Qxe1#', 'https://lichess.org/training/tlyzL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TLZ6r', 'Rapid', 'Lasers67', 1722, 'BillCollector', 1723, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,dxc4,a3,Bg7,e4,Bg4,Bxc4,O-O,O-O,a6,a4,Nc6,Qd3,Bxf3,Qxf3,Nxd4,Qe3,Nc6,Rd1,Qe8,b3,Rd8,Bb2,Na5,Be2,Nxb3,Rab1,Na5,Nd5,Nxd5,exd5,Bxb2,Rxb2,Qxa4,Rdb1,Rxd5,Qxe7,Qc6,Bf3,Qd6,Qe1,Rb5', 'Rxb5,axb5,Qxa5', 'https://lichess.org/training/TLZ6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tm2MA', 'Blitz', 'Yokipi', 1785, 'konstantinos22', 1749, 'd4,f5,c4,Nf6,Nc3,g6,Nf3,Bg7,Bf4,O-O,e3,d6,Bd3,e6,O-O,Nbd7,b4,Qe7,c5,e5,dxe5,dxe5,Bc4+,Kh8,Bg5,e4,Nd4,c6,a4,Ne5,Bb3,Nd3,Bc2,Nxb4,Nb3,Nxc2,Qxc2,Be6,Nd4,Bc4,Rfb1,Qxc5,Rxb7,Rfb8,Rab1,Rxb7,Rxb7,Bd3,Qb3,Nd5,Rxg7,Nxc3,Bf6,Ne2+', 'Nxe2,Qc1+,Nxc1,f4,Rb7#', 'https://lichess.org/training/tm2MA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tm37U', 'Blitz', 'WebCaissa', 1719, 'reza6868', 1649, 'Nc3,d5,e4,c6,d4,e6,Nf3,dxe4,Nxe4,Nf6,Bd3,Be7,O-O,O-O,c3,Nbd7,Bc2,Nxe4,Bxe4,Nf6,Bc2,Qc7,Re1,c5,Be3,cxd4,Bxd4,Bd7,Qd3,g6,Rad1,Bc6,Ne5,Rad8,Qh3,Nd5,Qh6,Bf6,Ng4,Bxd4,Rxd4,Qe7,Ne5,Nf6,Rh4,Rd2,b3,Rxc2,h3,Rxa2,Ng4,Rxf2', 'Nxf6+,Qxf6,Qxh7#', 'https://lichess.org/training/Tm37U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tM3pl', 'Rapid', 'DonaldoFischerJr', 2228, 'mFrohlich', 2166, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nxe5,Qa5+,Nc3,Qxe5,Bd3,Bb4,Bd2,d5,O-O,dxe4,Nxe4,Bxd2,Qxd2,O-O,Rfe1,Nxe4,Rxe4,Qxb2,Rae1,Nc6,Rh4,f5,Bc4+,Kh8,Qg5,Qc3', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/tM3pl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tm5PM', 'Classical', 'Aamir1359', 1680, 'wirthi', 1646, 'e3,e5,b3,d5,Bb2,Nc6,Bb5,Bd7,Nf3,e4,Nd4,Nxd4,Bxd4,Bxb5,a4,Ba6,c3,Qe7,b4,b5,a5,Nf6,O-O,Qe6,Re1,Rc8,Na3,c5,bxc5,Bxc5,Qe2,b4,Nb5,Qc6,Bxc5,Qxc5,Nc7+,Qxc7,Qxa6,O-O,Qb5,bxc3,dxc3,Qxc3,Qb7,Rc7,Qa6,Rfc8,g3,Qd2,Red1,Rc1', 'Qxc8+,Rxc8,Rxd2', 'https://lichess.org/training/tm5PM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tM66G', 'Rapid', 'sorinm', 1922, 'Shadigamaan', 1860, 'e4,d6,d4,g6,f4,e5,fxe5,dxe5,Nf3,exd4,Qxd4,Qxd4,Nxd4,Bg7,c3,Ne7,Bf4,c6,Nd2,O-O,O-O-O,Bg4,N2f3,c5,Nb3,b6,h3,Be6,Ng5,Nbc6,Nxe6,fxe6,Bc4,Rxf4,Bxe6+,Kh8,Bd5,Raf8,Kb1,c4,Nd2,b5,Nf3,Nxd5,exd5,Ne5,d6,Nxf3,d7,Rd8,gxf3,Rxf3,Rhe1,Bf8', 'Re8,Rxd7,Rxd7', 'https://lichess.org/training/tM66G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tm6io', 'Rapid', 'Lejo19', 1639, 'aLaDa222', 1680, 'e4,e5,Qf3,Qf6,Bc4,d6,Nc3,Be6,Nd5,Bxd5,Bxd5,c6,Bc4,b5,Be2,g6,b3,Bg7,Ba3,Kd7,Qd3,Ne7,c4,bxc4,bxc4,c5,Bxc5,Na6,Ba3,Bh6,c5,d5,exd5,Ke8,d6,Nc6,d7+,Kd8,Qxa6,Kc7,Bb5,e4,Bb4', 'Qxa1+,Ke2,Nd4#', 'https://lichess.org/training/tm6io');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TM6u2', 'Classical', 'nealehin', 1655, 'farukdemlik', 1846, 'd4,Nf6,Nc3,g6,Bg5,Bg7,Nf3,O-O,e3,d6,Bc4,c5,O-O,Nc6,a3,cxd4,exd4,Qb6,h3,h6,d5,Ne5,Nxe5,dxe5,Bxf6,Bxf6,Ne4,Qxb2,Nxf6+,exf6,Re1,Qc3,Re4,Bf5,Rh4,Kg7,Bb3,Rac8,Ra2,b5,Qc1,g5,Rb4,Bd7,h4,a5,Re4,a4,hxg5,hxg5,Re3,Qd4,c3,Qc5,Bd1,Qxd5,Rd2,Qe6,Rdd3,Rh8,Rg3,Rc4,Rxg5+,fxg5,Qxg5+,Kf8,Rg3,Rg8,Qxg8+,Ke7,Bg4', 'Rxg4,Rxg4,Qxg4', 'https://lichess.org/training/TM6u2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tm8fT', 'Rapid', 'One_Nation12', 1702, 'hamdy_ali34', 1783, 'e4,e5,f4,exf4,Nf3,Be7,h4,Nc6,d4,Nf6,Nc3,O-O,Bxf4,d6,Qe2,Bg4,O-O-O,a5,e5,Ne8,Qb5,Ra6,Qxb7', 'Rb6,Qxb6,cxb6', 'https://lichess.org/training/tm8fT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tM8oF', 'Blitz', 'nimu3', 1867, 'IM samisahi', 2634, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nd2,Qb6,Qb3,c4,Qxb6,axb6,Ngf3,b5,Be2,b4,O-O,Bf5,Nh4,Bd7,Nhf3,Bg4,Rfe1,e6,h3,Bh5,Ne5,Bxe2,Rxe2,Be7,Nxc6,bxc6,cxb4,Bxb4,a3,Bxd2,Rxd2,O-O,Bd6,Rfd8,Bb4,Rdb8,Re1,h6,f3,Ne8,e4,Nc7,e5,Na6,Bc3,Rb3,g4,Rab8,f4,c5,f5,cxd4,Rxd4,Nc5,fxe6,fxe6,Rf1,Ne4,Rxe4,dxe4,Re1,Rxb2,Bxb2,Rxb2,Rxe4', 'c3,Rc4,c2', 'https://lichess.org/training/tM8oF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMA9L', 'Blitz', 'Bublicek', 2124, 'Maddest', 1751, 'd4,d5,Nf3,e6,c4,c6,Nbd2,Ne7,g3,f5,Bg2,h6,Ne5,Nd7,Nxd7,Bxd7,O-O,Ng6,cxd5,cxd5,Nf3,Be7,Bf4,Nxf4,gxf4,g5,Qd2,g4,Ne5,O-O,Ng6,Rf6,Nxe7+,Qxe7,Qe3,Re8,Rfc1,Bc6,a3,h5,Qe5,h4,b4,Qg7,a4,a6,e3,g3,fxg3,hxg3,h3,Qf7,Rc5,Rh6,b5,Bd7,Rc7,Re7,Rac1,axb5,axb5,Qh7,Rxb7,Rxh3,Rb8+,Be8,Rcc8', 'Rh1+,Bxh1,Qh2+,Kf1,Qf2#', 'https://lichess.org/training/TMA9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmAIZ', 'Rapid', 'reichenbacher', 1960, 'abdulkadirfb', 1823, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,g6,Nf3,Bg7,h3,O-O,e3,Re8,c5,Nh5,Bh2,Nd7,g4,Nhf6,b4,a6,a4,Nf8,b5,Bd7,Ne5,Be6,bxc6,bxc6,Nxc6,Qd7,Ne5,Qc8,Bg2,N8d7,Nd3,Rb8,Bxb8,Qxb8,Nxd5,Nxd5,Bxd5,Bxd5,O-O,Bc4,Rb1,Qc8,Re1,Bd5,Nf4,Bc6,d5,Ba8,c6,Ne5,Ne2,Nf3+,Kf1,Nxe1,Qxe1,Rd8,e4,e6,Qa5,exd5', 'c7,Rf8,Rb8', 'https://lichess.org/training/tmAIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TmAK3', 'Rapid', 'zbyszektato', 1620, 'over40', 1644, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Qe2,O-O,O-O-O,Re8,Bxf6,Bxf6,Qh5,Bg5+,Kb1,g6,Qf3,h5,h3,c6,g4,h4,Bd3,Re6,Nge2,Rf6,Qg2,Na6,a3,b5,Nxb5,cxb5,Bxb5,Nc7,Bc6,Rb8,Bxd5,Nxd5,Qh2,Qb6,b3,Rc6,Qe5,Qa6,Qe8+,Kg7,Qe5+,Bf6,Qxd5,Be6,Qf3,Rd6,Nf4,Bxb3,cxb3,Rxb3+,Qxb3,Rb6,Qxb6,Qxb6+,Ka2,g5,Nd5', 'Qe6,Rhe1,Qxd5+', 'https://lichess.org/training/TmAK3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmbHQ', 'Bullet', 'WGM karinachess11', 2584, 'WFM Chempiblinka', 2154, 'Nf3,Nf6,e3,e6,c4,c5,d4,cxd4,exd4,d5,Nc3,Nc6,Bg5,Be7,Be2,dxc4,Bxc4,b6,O-O,O-O,Bxf6,Bxf6,d5,Na5,Be2,Bxc3,bxc3,Qxd5,Qc2,Bb7,Rad1,Qh5,h3,Rac8,Qd2,Qg6,Qf4,Rfd8,c4,Qf6,Qe3,Nxc4,Rxd8+,Qxd8,Bxc4,Rxc4,Ne5,Re4,Qg3,Qc7,Rd1,f6', 'Rd7,Qc1+,Kh2', 'https://lichess.org/training/tmbHQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMBwD', 'Blitz', 'Marta_Argerich', 2438, 'FM LuukDeGrote', 2450, 'e4,e6,d4,d5,e5,c5,c3,Qb6,a3,Nc6,Nf3,Bd7,b4,cxd4,cxd4,Rc8,Nc3,Nxd4,Nxd5,Nc2+,Qxc2,Rxc2,Nxb6,axb6,Bd3,Rc3,Be2,Ne7,O-O,Nd5,Bb2', 'Rc2,Nd4,Rxb2', 'https://lichess.org/training/TMBwD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TmclS', 'Rapid', 'KingGodfrey', 1732, 'nezarsyria', 1606, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,h6,Qf3,Nf6,Bc4,d6,O-O,Be6,Bxe6,fxe6,Nc3,Be7,Qg3,O-O,Bxh6,Nh5,Qg4,Qe8,Qxe6+,Qf7,Qxf7+,Rxf7,Be3,Raf8,Nd5,Bd8,c4,Nf6,Rad1,Nxd5,cxd5,Nb4,a3,Na6,Na5,Bxa5,b4,Bb6,Bxb6,axb6,f3,Nc7,a4,b5,a5,Na6,Rb1,Rc8,Rfc1,Rcc7,Kf2,Nxb4', 'Rxc7,Nd3+,Ke3,Rxc7,Kxd3', 'https://lichess.org/training/TmclS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tMcsi', 'Rapid', 'OLIMP880', 2014, 'CeXtreme', 2050, 'd4,g6,Nf3,Bg7,e3,Nf6,Nc3,d5,a3,Bg4,Be2,Nbd7,O-O,c6,b4,Nb6,Bb2,Qc8,Kh1,h5,Ng1,Nc4,Bc1,Nd6,h3,Nde4,Na4,b5,f3,Ng3+,Kh2,Nxf1+,Qxf1,bxa4,fxg4,hxg4,b5,Ne4,bxc6,g3+,Kh1,Nf2+,Qxf2,gxf2,Nf3,Rxh3+,gxh3,Qxh3+,Nh2,e5,c3,exd4,cxd4,O-O-O,Bd2,f5,Ba5,Rh8,Ba6+,Kb8,Rb1+,Ka8,Bb7+,Kb8,Ba6+,Ka8', 'Bb7+,Kb8,c7#', 'https://lichess.org/training/tMcsi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMdaD', 'Blitz', 'maximilianocm', 1601, 'thunderinggiraffe', 1579, 'c4,c5,Nf3,Nc6,Nc3,g6,e4,Bg7,d3,d6,Be3,Bg4,h3,Bd7,Be2,e6,Qd2,Nge7,a3,a6,g4,O-O,O-O-O,Rb8,Bh6,b5,Bxg7,Kxg7,h4,b4,Na4,Na5,Kc2,Bxa4+,Kb1,Bxd1,Rxd1,bxa3,h5,Nb3,Qc3+,e5,Nxe5,dxe5,Qxe5+,f6,Qc3,axb2,g5,Nd4,h6+,Kh8,gxf6,Rxf6,Qd2,Rxf2,Qg5,Nxe2', 'Qe5+,Rf6,Qxf6+,Kg8,Qg7#', 'https://lichess.org/training/TMdaD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tMedm', 'Rapid', 'ludisposed', 1722, 'mark_1956', 1668, 'e4,e5,Nc3,c6,f4,Qc7,fxe5,Qxe5,Nf3,Qc7,d4,h6,Bd3,d6,O-O,Bg4,Qe1,Nd7,Qg3,Be6,Bf4,g5,Bd2,Ngf6,e5,Ng4,Rae1,O-O-O,exd6,Bxd6,Ne5,Ngxe5,dxe5,Nxe5,Ne4,Nxd3,Nxd6+,Qxd6,cxd3,Qxd3,Bc3,Rhe8,Re3,Qd5,Rfe1,Qc5,Kh1,Qd5,Bf6,Rd7,Bg7,Qd2,Bxh6,g4', 'Rxe6,fxe6,Bxd2', 'https://lichess.org/training/tMedm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tmf4r', 'Blitz', 'themanp15', 1744, 'hugocervi', 1694, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,Nbd7,Be2,O-O,Be3,Ng4,Bd2,c5,h3,cxd4,hxg4,dxc3,Bxc3,Nf6,g5,Ng4,Bxg7,Kxg7,Nd4,Ne3,Qd2,Nxg2+,Kf2,e5,fxe5,dxe5,Kxg2,exd4,Rh4,Be6,Rah1,Rh8,Qf4,Rc8,Qe5+,Kg8,Bd3,a6,Qxh8+,Kxh8', 'Rxh7+,Kg8,Rh8+,Kg7,R1h7#', 'https://lichess.org/training/Tmf4r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TmgdH', 'Blitz', 'FM sonson28291', 2228, 'shadow-35', 2140, 'e4,c5,b4,cxb4,a3,bxa3,Bxa3,d6,d4,Nf6,Bd3,e6,c3,Be7,f4,O-O,Nf3,Nc6,O-O,Qc7,Nbd2,d5,e5,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Bxe4,Bd7,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,f5,exf6,Kxf6,Qh5,Rh8', 'Ne4#', 'https://lichess.org/training/TmgdH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TmGNP', 'Blitz', 'Felipe1970', 1771, 'mahanfaramarz', 1778, 'e4,e5,f4,d6,Nf3,Nc6,f5,Bd7,Bc4,f6,a3,Na5,Ba2,Ne7,d3,g6,Nh4,gxf5,Nxf5,Nxf5', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/TmGNP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmgRo', 'Classical', 'yogaraj_14', 1906, 'SamraatMukherjee15', 2194, 'd4,d5,c4,c6,g3,Nf6,Bg2,Bf5,Nc3,e6,Nf3,Nbd7,O-O,Qa5,Bd2,Qc7,Rc1,Be7,Bf4,Qb6,Qb3,Qxb3,axb3,O-O,Rfe1,Bb4,Nh4,Be4,Nxe4,Nxe4,Bxe4,Bxe1,Bxh7+,Kxh7,Rxe1,Nf6,Nf3,Ne4,Ne5,f6,Nd3,g5,Bc7,Nd2,cxd5,cxd5,b4,Nc4,b3,Nd2,Nc5,b6,Nxe6,Rfe8,Nd8,Raxd8,Bxd8,Rxd8,Rc1,Nxb3,Rc7+,Kg6,Rxa7,Nxd4,Kf1,b5,Rb7,Rc8,e3,Rc1+,Kg2,Nc2,Rxb5,Ne1+,Kh3,Rc2,f4,Ng2,fxg5,fxg5,Rb6+,Kf5,g4+,Ke4,Re6+,Kf3,b5,Rc8,Rf6+,Nf4+,exf4', 'Rh8+,Rh6,Rxh6#', 'https://lichess.org/training/tmgRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmhWf', 'Blitz', 'bulatmizhitov', 1615, 'mj009999', 1585, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,bxc6,Nxe5,Bd4,Nf3,Bc5,Nc3,Nf6,h3,O-O,d3,d6,Bg5,h6,Bh4,g5,Bg3,Re8,Qd2,Nh7,h4,g4,Nh2,h5,Ne2,d5,Qh6,Nf6,Bxc7,Qxc7,Qxf6,Bf8,Qg5+,Kh7,Qxh5+,Bh6,exd5,cxd5,Qxd5,Be6,Qe4+,Kg7,Qd4+,Kh7,Kd1,Rad8,Qe4+,Kg7,Ng3,Bxa2,Qxg4+,Kh7,Rxa2', 'Rxd3+,cxd3,Qc1#', 'https://lichess.org/training/tmhWf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tMhZh', 'Blitz', 'Quaesturiae', 2339, 'WIM arpitachess', 2387, 'Nf3,Nf6,c4,d6,d4,g6,Nc3,Bg7,e4,O-O,Be2,e5,O-O,Nc6,d5,Ne7,Ne1,Nd7,f3,f5,g4,h5,g5,f4,h4,a5,b3,b6,Kh2,Nc5,Rh1,Kh8,Bf1,c6,Bd2,cxd5,cxd5,Ba6,Bxa6,Nxa6,Rc1,Rc8,Qe2,Nc5,Nb5,Qd7,Ng2,Nxe4,Rxc8,Nxc8,Qxe4,Qxb5,Qxg6,Qxd5', 'Qxh5+,Kg8,g6', 'https://lichess.org/training/tMhZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMiSd', 'Rapid', 'beyonder123', 1875, 'Sanfara', 1828, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,b5,O-O,Be7,a3,Bb7,f3,Nc6,Kh1,Qc7,Nd5,Nxd5,exd5,Nd8,f4,O-O,Bh5,f6,f5,Nf7,Rf3,Qc4,Bxf7+,Rxf7,Rh3,Qxd5,Qg4,h5,Rxh5,Rc8,Be3,Rc4,Qh3,Rf8', 'Rh8+,Kf7,Qh5+,g6,Qxg6#', 'https://lichess.org/training/TMiSd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tmix9', 'Blitz', 'viktorkuliko68', 1687, 'zena544', 1700, 'e3,d5,d4,Bf5,c4,Nf6,c5,e6,h4,h6,Nc3,Nc6,Bd2,a6,a3,Be7,Nf3,b6,b4,O-O,cxb6,cxb6,b5,axb5,Bxb5,Qc7,Ng5,hxg5,hxg5,Ng4,g6,Bxg6,Qxg4,e5,Nxd5,Qd6,Nxe7+,Nxe7,Bb4', 'Qxb4+,axb4,Rxa1+,Ke2,Rxh1', 'https://lichess.org/training/Tmix9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMJ3k', 'Classical', 'hanasemsem', 1613, 'N-giogio', 1649, 'd4,c6,Bf4,d5,Nf3,Nf6,e3,Bg4,Be2,e6,Nbd2,c5,c3,Nc6,Qc2,Be7,Ne5,Nxe5,dxe5,Bxe2,Kxe2,O-O,Bg3,Rc8,exf6,Bxf6,Rhc1,d4,cxd4,cxd4,Qxc8,d3+,Kf1,Qxc8,Rxc8,Rxc8,Rb1,Rc2,Ne4,d2,Nxf6+,gxf6,Ke2', 'Rc1,Kxd2,Rxb1', 'https://lichess.org/training/TMJ3k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tMjF0', 'Classical', 'YUSUFOREL64', 1834, 'Blkpimpernel', 1681, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,O-O,d5,exd5,Nxd5,d4,exd4,cxd4,Be7,Qb3,Na5,Bxd5,Nxb3,Bxb3,O-O,Nc3,c5,Be3,cxd4,Nxd4,Bf6,Rad1,Bxd4,Rxd4,Qa5,Rfd1,Be6,Nd5,Bxd5,Rxd5,Qc7,Rd7,Qe5,Rxb7,Qxb2', 'Bxf7+,Rxf7,Rxb2', 'https://lichess.org/training/tMjF0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMk8x', 'Rapid', 'pupulwad', 1770, 'VanillaSquares', 1862, 'd4,Nf6,Bf4,g6,e3,d6,Nf3,Bg7,c4,c5,d5,O-O,Bd3,Na6,Nbd2,Nb4,Be2,Bf5,O-O,h6,a3,Nd3,Nh4,Nxf4,Nxf5', 'Nxe2+,Qxe2,gxf5', 'https://lichess.org/training/TMk8x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmkN2', 'Rapid', 'EduardRND', 1793, 'Ryco', 1663, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,d6,a4,a5,O-O,O-O,Be3,Bxe3,fxe3,Be6,Ba2,Bxa2,Rxa2,d5,exd5,Qxd5,b3,Rad8,d4,h6,c4,Qe4,Rd2,Qxe3+,Kh1,Nxd4,Nxd4,Rxd4,Rf3,Rxd2,Nxd2,Qd4,Qe2,Rd8,Nf1,e4,Rf2,g5,h3,Nh5,Rf5,Nf4,Qg4,f6,Rxf4,h5,Qe6+,Kg7,Qe7+,Kg6,Qxe4+,Qxe4,Rxe4,Rd1,Kg1,Rb1,Re3,Kf5,Rf3+,Ke5,Re3+,Kf4,Kf2', 'Rxf1+,Kxf1,Kxe3', 'https://lichess.org/training/tmkN2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmlXl', 'Blitz', 'luis22palo22', 1780, 'NM FlyingHorse', 1968, 'e4,d6,c4,e6,d4,Ne7,Bg5,Nd7,Bd3,h6,Bh4,g6,Nf3,Bg7,O-O,O-O,Nc3,a6,a4,b6,Qd2,Bb7,Bg3,Nc6,Bc2,e5,d5,Nd4,Nxd4,exd4,Ne2,Ne5,Nxd4,Nxc4,Qc3,Ne5,Bxe5,Bxe5,f4,Bg7,Rad1,a5,Bd3,Re8,Rfe1,c5,dxc6,Bxc6,Qxc6,Bxd4+,Kh1,Rc8,Qd5,Bf2,Rf1,Rc5,Qb3,Qh4,Bb5,Rh5,h3,Rxe4,Rxd6,Re3,Rxg6+,Kh8,Qxf7', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/tmlXl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tmmbz', 'Rapid', 'Arctic_Falcon', 1786, 'nitendra18bhadoria', 1728, 'Nf3,f6,g3,d5,d4,Qd6,Bg2,Bf5,Bf4,Qc6,c3,Qb6,Qc1,g5,Bd2,Nd7,O-O,O-O-O,a4,Bh6,Ne1,Be4,Bxe4,dxe4,Be3,f5,Bxg5', 'Bxg5,Qxg5,Qxb2,Nc2,Qxc2', 'https://lichess.org/training/Tmmbz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMMYd', 'Rapid', 'esspar', 1879, 'Bur_54', 1874, 'e4,c5,Nf3,e6,a3,Nc6,Bb5,Nf6,Nc3,Qc7,h3,Be7,d3,O-O,Bg5,Rd8,Qd2,a6,Bxc6,bxc6,e5,Nd5,Nxd5,Bxg5,Nxc7,Bxd2+,Kxd2,Ra7,Nxe6,dxe6,b3,a5,a4,Rad7,Ke3,Ba6,Nd2,g6,f4,Kg7,g4,f5,exf6+,Kxf6,Rae1,Rd4,Ne4+,Kf7,Nxc5,Bc8,Kf3,R8d5,Ne4,Rd7,h4,Kg7,h5,Rf7,hxg6,hxg6,Re3,e5,f5,gxf5,gxf5,Rxf5+,Kg4', 'Rf1+,Kg3,Rxh1', 'https://lichess.org/training/TMMYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmNe0', 'Rapid', 'Perushiippari', 1715, 'vic_k', 1679, 'e4,e5,d3,Nf6,Be3,b6,Be2,Bc5,Qd2,Nc6,h3,d6,Nf3,d5,exd5,Nxd5,Bxc5,bxc5,O-O,Nf4,Nc3,Nd4,Nxd4,cxd4,Ne4,Rb8,Qa5,Nxe2+,Kh1,Rxb2,Qxe5+,Qe7,Qxg7,Rxc2,Qxh8+,Kd7,Rfe1,Ba6,Nf6+,Kc6,Qa8+,Bb7,Qe8+,Qxe8,Nxe8,Ba6,Ng7,Bxd3,Nh5,f5,Ng3,Nf4,Re7,Rxf2,Rg1,Be4,Nxe4,fxe4,Rxe4,d3,Rxf4,Rxf4,Rd1,Rd4,Kg1,Kc5,Kf2,Kc4,Ke3,Kc3', 'Rc1+,Kb2,Kxd4,Kxc1,Kxd3', 'https://lichess.org/training/tmNe0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TmnE3', 'Rapid', 'LegendarnyAfrojax', 2148, 'rzbrzotrz', 1992, 'd4,e6,c4,c5,d5,d6,Nc3,Nf6,e4,Be7,Nf3,O-O,Be2,a6,a4,exd5,cxd5,Bg4,Nd2,Bxe2,Qxe2,h6,Nc4,Nbd7,f4,Nh7,O-O,f6,a5,b6,axb6,Nxb6,Na5,Qc7,Bd2,f5,Nc6,fxe4,Qxe4,Bf6,Qe6+,Kh8,Ne4,Rae8,Qxd6,Qxd6,Nxd6,Re2,Ba5,Nxd5,Rf2,Rxb2,Rxb2,Bxb2,Rd1,Nxf4,Ne7,Bd4+,Kh1,Rf6,Bc7,a5,g3,Nh3,Kg2,N3g5,h4,Ne6,Bxa5,Rf2+,Kh3,Ra2', 'Nf7#', 'https://lichess.org/training/TmnE3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tmoi3', 'Blitz', 'sonip', 1798, 'zocki', 1808, 'e4,e5,f4,d5,exd5,Nf6,c4,exf4,Nf3,Bc5,Be2,O-O,d4,Bb6,O-O,c5,dxc5,Bxc5+,Kh1,Nbd7,Bxf4,Nb6,Nc3,Bg4,Ne5,Bxe2,Qxe2,Re8,Qd3,Bd6,Rae1,Qc7,Qd4,Bxe5,Bxe5,Qxc4,Bxf6,gxf6,Qxf6,Rxe1,Qxf7+,Kh8,Rxe1,Qh4,Re7,Rg8,h3,Nc4,Ne4,Qe1+,Kh2,Qh4,Nf6', 'Qg3+,Kg1,Qxg2#', 'https://lichess.org/training/Tmoi3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tMpOh', 'Blitz', 'shongwe', 1604, 'fc_cappies', 2026, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,O-O,O-O,f4,Qc7,Kh1,b5,f5,e5,Nde2,Bb7,Ng3,Nbd7,Bg5,Nc5,Bxf6,Bxf6,Bd5,b4,Bxb7,Qxb7,Nd5,Bd8,f6,g6,Qd2,Kh8,Qh6,Rg8,Rad1,Rc8,Rf3,Ne6,Ne2,Nf8,Rh3,Rxc2,Rdd3,Rxe2', 'Qxh7+,Nxh7,Rxh7+,Kxh7,Rh3#', 'https://lichess.org/training/tMpOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TmQCG', 'Rapid', 'TeampoltReborn', 1723, 'johnpurz', 2028, 'e4,e6,c4,c5,Nc3,d6,b3,Nf6,g3,Be7,Bg2,Nc6,Nge2,O-O,O-O,a6,d3,Qa5,Bd2,Qc7,Bc1,b6,Bb2,Bb7,Qd2,Rad8,Nd1,Ne5,Ne3,d5,exd5,exd5,cxd5,Bxd5,Nxd5,Nxd5,d4,Ng6,Rac1,Bf6,Bxd5,Rxd5,Qc2,Qe7,Rfd1,cxd4,Nxd4,Bxd4,Rxd4,Rxd4,Bxd4,b5', 'Bc5,Qd8,Bxf8', 'https://lichess.org/training/TmQCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmqLw', 'Rapid', 'aidynnur', 1684, 'scncos', 1848, 'e4,Nf6,Nc3,d5,e5,Nfd7,d4,c5,Nxd5,cxd4,Qxd4,Nc6,Qd1,Ndxe5,Bf4,g6,Nf3,Nxf3+,gxf3,Bg7', 'Nc7+,Qxc7,Bxc7', 'https://lichess.org/training/tmqLw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMTAl', 'Blitz', 'lyidor', 2144, 'etceteras', 2051, 'c4,c6,Nc3,d5,d4,Nf6,Nf3,e6,Bg5,Nbd7,e3,Qa5,a3,Ne4,Qc1,dxc4,Bxc4,Nxg5,Nd2,Be7,f4,Qf5,O-O,Nh3+,Kh1,O-O,e4,Qg4,Be2,Qh4,gxh3,Qxh3,Rf3,Qh6,Qg1,Re8,Raf1,b6,Rg3,Bb7,Bf3,c5,d5,exd5,exd5,Nf6,Qg2,Rad8,Rg1,Bf8,Nc4,g6,Ne5,Qxf4,Nxg6,fxg6,Rxg6+,Kf7', 'Rg7+,Bxg7,Qxg7#', 'https://lichess.org/training/TMTAl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tmtuf', 'Rapid', 'TheDeerHunter', 2069, 'Cuxhaven', 2025, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,c3,Nxe4,Re1,Nc5,Bxc6,dxc6,Nxe5,Nd3,Nxd3,Qxd3,Qe2,Qxe2,Rxe2,Bf5,d4,Kd7,Bf4,Rae8,Nd2,Bd6,Be3,Bf4,Nf3,Bg4,Rae1,Bxf3,gxf3,Bd6,f4,Re4,f5,Rhe8,f3,Rh4,Rg2,Bf4,Bf2,Rxe1+,Bxe1,Be3+,Bf2,Bxf2+,Kxf2,g6,fxg6,hxg6,Ke3,Kd6,Kf2,c5,Kg3,Rh5,dxc5+,Kxc5,f4,Rd5,Rf2,b5,f5,gxf5,Kf4,Kd6,Re2,f6,h4,Re5', 'Rxe5,fxe5+,Kxf5', 'https://lichess.org/training/Tmtuf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmu1l', 'Rapid', 'wwj', 1761, 'alfve', 1717, 'd4,d5,c4,c6,e3,Nf6,Nc3,Bf5,Qb3,Qc7,Nf3,dxc4,Qxc4,e6,Bd3,Bxd3,Qxd3,Bd6,Ne4,Nxe4,Qxe4,O-O,Ng5', 'Qa5+,Bd2,Qxg5', 'https://lichess.org/training/tmu1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMv6s', 'Blitz', 'ALozano2', 1706, 'javescm', 1713, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,Be3,Bb4,Bd3,Bxc3+,bxc3,O-O,O-O,d5,h3,dxe4,Be2,Qxd1,Rfxd1,Nd5,Bc5,Re8,Bc4,Nxc3,Rd6,Bb7,Rd7,Bc8,Bxf7+,Kh8,Bxe8,Bxd7,Bxd7,Rd8,Bxc6,Rd2,Bb4,Rxc2,Bxc3,Rxc3,Bxe4,g6,Rd1,Kg7,Rd5,Kf6,Ra5,Rc4,Bd5,Rd4,Bb3,Rd7,Kh2,h5,Kg3,Kf5,Rd5,Rc7,f4,Rc3+,Kh2,Kxf4,Rd6,g5,Rh6,g4,Rxh5', 'g3+,Kg1,Rc1+,Bd1,Rxd1#', 'https://lichess.org/training/TMv6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmWaK', 'Blitz', 'xXPanterNoireXx', 2181, 'Silvinaki', 2166, 'c4,Nf6,Nc3,g6,d4,Bg7,e4,d6,Be2,O-O,h4,e5,d5,c6,h5,cxd5,cxd5,a6,hxg6,fxg6,Bg5,b5,Qd2,Nbd7,f3,Nc5,g4,b4,Nd1,a5,Nh3,Ba6,O-O,Qb6,Be3,Bxe2,Qxe2,Nfd7,Ng5,Qd8,b3,Qe7,Nb2,Bh6,Qd2,Rfc8,Rac1,Bxg5,Bxg5,Qf7,Kg2,a4,Nc4,axb3,Nxd6,Qf8,axb3,Qxd6,Qxb4,Ra2+,Kg3,Nxe4+,fxe4,Qxb4,Rxc8+,Kg7,Rc7,Qxb3+,Rf3,Qb5,Bf6+,Kg8,Rc8+,Kf7,Bxe5+,Ke7', 'd6+,Ke6,Re8#', 'https://lichess.org/training/tmWaK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmwAL', 'Rapid', 'ivanvor', 1910, 'Orhankuzeyugur', 1858, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,Nc3,Bb4,Nxe4,O-O,Qc4,Nxe4,Qxb4,Re8,Be2,Qxd5,d3,Nd6,Be3,Nc6,Qc3,Bg4,O-O,Nf5,h3,Nxe3,fxe3,Rxe3,Rae1,Rae8,hxg4,Rxe2,Rxe2,Rxe2,Re1,Nd4,Qxc7', 'Nxf3+,Kf1,Rxe1+', 'https://lichess.org/training/tmwAL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TmXpq', 'Rapid', 'Movz', 1759, 'Abonuhi', 1670, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,Qd2,d5,Bh6,Nc6,Bxg7,Kxg7,cxd5,Nxd5,e3,Bf5,e4,Nxc3,exf5,Qxd4,Qxc3,Qxc3+,bxc3,Rfd8,fxg6,fxg6,Nf3,Rd6,Bb5,Re6+,Kd2,Rd8+,Kc2,a6,Bxc6,Rxc6,Rhe1,Kf6,Re3,b5,Rae1,b4,h3,a5,Rb1,Rd5,Kb3,Rb5,cxb4', 'Rxb4+,Ka3,Rxb1', 'https://lichess.org/training/TmXpq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMXra', 'Blitz', 'Dr_Doom97', 1813, 'twsnake11', 1713, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,g6,Nf3,c6,Bc4,Bg7,d5,cxd5,Nxd5,Nf6,Nxf6+,Bxf6,Qe2,Nd7,Bh6,Nb6,Rd1,Qc7,Bb5+,Bd7,Bd3,O-O-O,O-O,Bxb2,Rb1,Bc3,Qxe7,Bc6,Qe3,Rhe8,Qc1,Bxf3,gxf3,Be5,f4,Bc3,Rb3,Kb8,Qa3,Bd4,Rd1,Ka8,Bg5,Rd5,Bh4,Qxf4,Bg3,Qg4,c4,Qxd1+,Kg2,Rdd8,c5,Nd7,Bb5,Bg7', 'Qxa7+,Kxa7,Ra3+,Qa4,Rxa4#', 'https://lichess.org/training/TMXra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMy4w', 'Rapid', 'nomadic_48', 1777, 'Samsufi', 1812, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,Bc4,a6,N5a3,Nf6,Nc3,b5,Bxb5,axb5,Naxb5,Ba6,Bg5,Rb8,Bxf6,Qxf6', 'Nc7+,Kd8,Nxa6', 'https://lichess.org/training/TMy4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tmYIC', 'Blitz', 'Akif81', 1760, 'jcll', 1753, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Nf6,Bc4,Bc5,Bg5,d6,Qe2,Be6,Bxe6,fxe6,O-O-O,O-O,g3,Rb8,f4,Qb6,b3,Ba3+,Kb1,Nd7,Na4,Qb4,fxe5,Qxa4,exd6,Ne5,Be7,Rf3,h4,Rfxb3+', 'cxb3,Rxb3+,axb3,Qxb3+,Ka1', 'https://lichess.org/training/tmYIC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TMyse', 'Blitz', 'gaeira', 1783, 'HadyAbdellah', 1761, 'd4,g6,Nf3,Nf6,Bf4,Bg7,c4,d6,Nc3,O-O,e4,Bg4,Be2,Nc6,h3,Bxf3,Bxf3,e5,dxe5,Nxe5,Qe2,Nxf3+,Qxf3,Re8,e5,Nh5,O-O,Nxf4,Qxf4,Bxe5,Qf3,Qf6,Qxf6,Bxf6,Nd5,Bxb2,Rab1,Re2,Nxc7,Rb8,Nd5,Rc8', 'Rxb2,Rxb2,Ne7+,Kg7,Nxc8', 'https://lichess.org/training/TMyse');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tMZdo', 'Rapid', 'steveortiz', 1864, 'Kacbu', 1910, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be6,Qb3,c6,Qxb7,Nbd7,e3,Qc8,Qxc8+,Rxc8,Ba6,Rb8,b3', 'Bb4,Ne2,Ne4', 'https://lichess.org/training/tMZdo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tn058', 'Rapid', 'Bucon', 1659, 'meelis', 1622, 'e4,e5,f4,exf4,Nf3,d6,d4,Bg4,Bxf4,h6,Bc4,Nf6,Nc3,a6,O-O,Qe7,Qd3,b5,Bb3,Nc6,Rae1,Qd7,a3,Be7,e5,dxe5,dxe5,Bc5+,Kh1,Qxd3,cxd3,Nh5,Be3,Bxe3,Rxe3,O-O,Bd5,Bd7,Re4,g6,Nd4,Nxd4,Bxa8,Rxa8,Rxd4,Bc6,Nd5,Re8,Re1,Ng7,Nxc7,Re7,Nxa6,Ne6,Rd6,Bb7,Nb4,Rc7,h3,Rc5,d4,Rc7,d5,Nf4,Rd8+,Kg7,Kh2,Rc5,Rd1,Kh7,g3,Nh5,d6,Rxe5,d7', 'Re2+,Kg1,Rg2+,Kf1,Nxg3+,Ke1,Re2#', 'https://lichess.org/training/Tn058');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tn1Yu', 'Bullet', 'GM dearmike', 1706, 'Fuerajohperros', 1719, 'd4,f5,c4,Nf6,g3,e6,Bg2,d5,Nf3,c6,O-O,Bd6,b3,O-O,Ba3,Ne4,Qc1,Qe7,Bxd6,Qxd6,Ne5,Nd7,Nd3,Qe7,e3,dxc4,bxc4,e5,Nc3,Nxc3,Qxc3,e4,Nf4,g5,Ne2,Qf7,f3,Nb6,fxe4,Qxc4,Rf2,Qxc3,Nxc3,Nc4,Re1,fxe4,Rxf8+,Kxf8,Bxe4,Kg7,Bd3,Nd6,e4,Bg4,e5,Nf5,Bxf5,Bxf5,Na4,Rd8,e6,Rxd4,e7,Bd7', 'Nc5,Be8,Ne6+,Kf6,Nxd4', 'https://lichess.org/training/tn1Yu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tN2q5', 'Rapid', 'Riot64', 2138, 'Rafa_82', 2054, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,Nf6,Bd3,O-O,h3,b6,Be3,Bb7,Qd2,a5,Bh6,Nbd7,Bxg7,Kxg7,O-O-O,e6,h4,c5,h5,Rh8,h6+,Kf8,e5,Nd5,exd6,Nxc3,Qxc3,Rg8,Bb5,Nf6,dxc5,Ne4,Qe5,bxc5,Rh4,Qb6,d7,Ke7,Ba4,f6,Qh2,Rab8,b3,g5,Rg4,Nxf2,Re4,Nxe4,Re1,e5,Qh5,Rg6,Qg4,Nc3,Nxe5,fxe5,Rxe5+,Re6,Qxg5+,Kd6,Rxe6+,Kxe6,Qg4+,Kf7,Qg7+,Ke6,Qxh7,Nxa4,bxa4,Qd8,Qg6+,Kxd7,Qd3+,Kc6,Qb5+,Kc7,Qxc5+,Bc6,Qa7+,Rb7,Qxa5+,Kb8,Qe5+,Qc7,Qh8+,Ka7,Qd4+,Ka6,Qc4+,Ka7,Qd4+,Rb6,a5,Kb7,axb6,Qxb6,Qg7+,Ka6,h7,Ka5,h8=Q,Qe3+,Kb2,Qb6+,Ka1,Qg1+,Kb2,Qb6+,Kc1,Qg1+,Kd2,Qd4+,Ke1,Qe3+,Kf1', 'Bb5+,c4,Bxc4#', 'https://lichess.org/training/tN2q5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TN2R1', 'Rapid', 'Ceinos', 2012, 'Waychalla1', 1963, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bd3,Bxd3,Qxd3,e6,O-O,Bd6,Re1,Ngf6,Nf5,Bf8,Bf4,g6,Nd6+,Bxd6,Bxd6,Nb6,Be5,O-O,c4,c5,Bxf6,Qxf6,dxc5,Rad8,Qb3,Nd7,Qxb7,Nxc5,Qxa7,Nd3,Red1,Nxb2,Rxd8,Rxd8,Rc1,Nxc4,h3,Ne5,Nxe5,Qxe5,Qc7', 'Rd1+,Rxd1,Qxc7', 'https://lichess.org/training/TN2R1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tn3H9', 'Classical', 'OksKV', 1807, 'KaranChess', 1820, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,Nf6,Be2,d6,O-O,O-O,f4,Ng4,Bxg4,Bxg4,Qxg4,Bxd4,Bxd4,Nxd4,Rf2,Qc8,f5,Nc6,Nd5,Re8,Qf4,f6,fxg6,hxg6,Qh6,Ne5,Nf4,Qg4,h3,Nf7,Qxg6+,Qxg6,Nxg6,Rac8,Raf1,Rc4,Re1,Ng5,Rfe2,Kf7,b3,Rc3,Nh4,Rec8,Rc1,Ne6,Nf5,Nf4,Re3', 'Rxe3,Nxe3,Ne2+,Kf2,Nxc1', 'https://lichess.org/training/tn3H9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TN4Rc', 'Rapid', 'Andre1972', 1695, 'Appanov', 1692, 'e4,c5,g3,d6,Bg2,Nf6,Nc3,a6,Nge2,Nc6,O-O,Bd7,f4,e5,f5,Be7,d3,Qc7,h4,O-O,Kh2,g6,Bh3,Kg7,g4,d5,g5,Nh5,f6+,Kg8,fxe7,Nxe7,Bxd7,Qxd7,Ng3,Nxg3,Kxg3,d4,Ne2,f5,Ng1,f4+,Kh2,Kg7,Nh3,Rh8,Rg1,h6,Qg4,Qxg4,Rxg4,hxg5,Nxg5,Rh5,Ne6+,Kf7,Nxc5,Rah8,Nxb7,Rxh4+,Rxh4,Rxh4+,Kg2,g5,Nd6+,Ke6,Nf5,Nxf5,exf5+,Kxf5,Bd2,Rh8,Rh1', 'f3+,Kg1,f2+,Kxf2,Rxh1', 'https://lichess.org/training/TN4Rc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tN4YA', 'Blitz', 'BarisSannan', 1566, 'Shockwire', 1581, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,d5,Re1,Bc5,Rxe4,dxe4,Nxe5,Bxf2+,Kf1,Be6,Bxe6,fxe6', 'Qh5+,g6,Nxg6,Kd7,Nxh8', 'https://lichess.org/training/tN4YA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tN5iK', 'Bullet', 'ozcanakbaba', 1627, 'tyvinez', 1592, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,Qg5,Bc4,d6,d3,Qg6,Qf3,Bg4,Bxf7+,Qxf7,Qxg4,Nf6,Qh3,Be7,Nd2,g5,Nc4,g4,Qg3,O-O-O,Bg5,Rhg8,Bxf6,Bxf6,Rfe1,Rdf8,e5,dxe5,Nxe5,Bxe5,Qxe5,Qxf2+,Kh1,h5,Qxh5,g3,h3,Rh8,Qg4+,Kb8,Qe2', 'Rxh3+,gxh3,g2+,Kh2,g1=Q#', 'https://lichess.org/training/tN5iK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tN5kV', 'Blitz', 'Fateh11Benzo', 1737, 'igjoss_robbins', 1734, 'Nf3,Nc6,d4,Nf6,Bg5,h6,Bh4,g5,Bg3,d6,Nc3,Bg7,e4,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd3,Nd7,e5,dxe5,O-O-O,Nc5,Qc4,Qd6,Nb5,Qb6,Nxd4,exd4,Qd5,Rd8,Qc4,d3,b3,dxc2,Rxd8+,Kxd8,Kxc2,Qg6+,Bd3,Nxd3', 'Qxc7+,Ke8,Qc8#', 'https://lichess.org/training/tN5kV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TN6oQ', 'Rapid', 'NICEDWARF', 1759, 'afzan1973', 1825, 'e4,d6,Nf3,a6,Bc4,b5,Bb3,c5,c4,Be6,cxb5,axb5,Bxe6,fxe6,Qe2,Qb6,d3,Nf6,Be3,Ng4,Ng5,Nxe3,Qxe3,Qa5+,Nd2,Qb4,O-O,Qxb2,Nxe6,Rxa2,Rab1,Qxd2,Qh3,Qh6,Nc7+,Kf7,Qf3+,Qf6,Qh5+,g6', 'Qd5+,e6,Qxa2', 'https://lichess.org/training/TN6oQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TN9gv', 'Rapid', 'emilianozapata', 2034, 'aber1991', 1968, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nf3,Ne7,Be3,O-O,Nbd2,Bf5,Nf1,Nd7,Ng3,Bxd3,Qxd3,f6,Nf5,Nxf5,Qxf5,c6', 'Qe6+,Rf7,Qxd6', 'https://lichess.org/training/TN9gv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tNaa1', 'Blitz', 'Piyush1515', 1939, 'Jdonadoni', 1919, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,c6,Nf3,d6,O-O,e5,e4,O-O,d4,Qe7,dxe5,dxe5,Qb3,Nbd7,Bg5,h6,Be3,Ng4,Bd2,Nc5,Qc2,Bd7,Rad1,Rad8,h3,Nf6,b4,Na6,a3,Kh7,Bc1,Bc8,Bb2,Nh5,Ne2,f5,exf5,Bxf5,Qb3,Bc8,g4,Nf4,Nxf4,exf4,Rfe1,Qf7,Bxg7,Qxg7,Rxd8,Rxd8,Qb1,Nc7,Qe4,Re8,Ne5,Be6,Qxf4,Bxc4,Qxc4,Rxe5,Rxe5,Qxe5,f4,Qe1+,Kh2,Qe7,Be4,Ne6,f5,Ng5,fxg6+,Kg7,Qd4+,Kg8,Bf5,Qe2+,Kh1,Qf3+,Kg1,Qg3+,Kf1,Qxh3+,Ke2,Qf3+,Kd2,Qg2+,Kc3,Qf3+,Kc4,Qf1+,Kb3,Qf3+,Ka4', 'b5+,Ka5,Qxa3#', 'https://lichess.org/training/tNaa1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tnAlp', 'Rapid', 'Khe-MorG', 1675, 'PunicaGranatum', 1629, 'e4,c5,Qh5,g6,Qxc5,Bg7,c3,Nc6,Bd3,d6,Qe3,Nf6,Nf3,Ng4,Qe2,Nce5,Nxe5,Nxe5,Bc2,O-O,O-O,d5,d4,Nc6,exd5,Qxd5,Be4,Qe6,Re1,Nd8,Qd1,Qd6,h3,f5,Bd3,e5,dxe5,Bxe5,g3,Kg7,Qe2,Bf6,Bf4,Qb6,b3,Ne6,Bd2,f4,gxf4,Bh4,Be4', 'Nxf4,Bxf4,Rxf4', 'https://lichess.org/training/tnAlp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tNAoH', 'Blitz', 'scacco-finito', 2041, 'Wassili', 2054, 'e4,g6,d4,Bg7,Nc3,d6,f4,a6,Nf3,b5,Bd3,Bb7,O-O,Nd7,a4,b4,Ne2,c5,Be3,Ngf6,dxc5,Ng4,Bd4,Bxd4+,Nexd4,Ne3,Qe2,dxc5,Qxe3,cxd4,Qxd4,O-O,Rad1,a5,Bb5,Nf6,Qe3,Qc7,e5,Nd5,Qd2,Rfd8,Nd4,Rac8,Kh1,Kg7,Rde1,e6,Qf2,Ne7,Bd3,Qc5,Nf3,Qc7,Qh4,Nd5,Ng5,h6,Ne4,Qc6,Rf3,Rd7,Nf6,Nxf6,Qxf6+,Kh7,f5,exf5,e6,Re8,Bb5,Rxe6,Bxc6', 'Rxe1+,Rf1,Rxf1#', 'https://lichess.org/training/tNAoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TnBp6', 'Blitz', 'Paulkarson2020', 1826, 'Hpsk', 1882, 'e4,c5,Bc4,e6,Nf3,a6,Nc3,b5,Be2,Bb7,d3,Nf6,O-O,Be7,Bg5,d5,e5,Nfd7,Bxe7,Qxe7,Qd2,d4,Ne4,Bxe4,dxe4,Nc6,Bd3,Ndxe5,Nxe5,Nxe5,Qf4,f6,a4,Nxd3,cxd3,e5,Qf5,O-O,axb5,axb5,Rae1,Ra2,f4,Rxb2,fxe5,fxe5,Qg4,Rxf1+,Rxf1,Qe8,h4,c4,dxc4,bxc4,h5,c3,h6,g6,Qg5,Rb7,Rf5,Qe7,Qg4,c2,Rf1,Rb1', 'Qc8+,Qf8,Qxf8#', 'https://lichess.org/training/TnBp6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TncDJ', 'Blitz', 'abaliga123', 1560, 'Omeralomeraloer', 1621, 'Nf3,d6,d3,g6,e4,Bg7,Nc3,Nf6,Be2,O-O,Bg5,Nbd7,Qd2,Re8,O-O,e5,Nd5,c6,Nxf6+,Nxf6,b3,d5,exd5,cxd5,d4,e4,Ne5,Bf5,Bb5,Re7,c4,a6,Ba4,dxc4,bxc4,Qb8,Bb3,e3,fxe3,Ne4,Qe2,Nxg5,c5,Rxe5,dxe5,Bxe5,Rad1,Bxh2+,Kh1,Ne4,Rf3,Nc3,Qc4,Nxd1', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/TncDJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TnCdT', 'Blitz', 'esreIre', 1769, 'marma65', 1760, 'e4,e5,Nf3,d6,c3,Nf6,d3,Be7,Bg5,Bg4,Be2,O-O,O-O,Nbd7,Nbd2,Bh5,Nh4,Bxe2,Qxe2,h6,Bxh6,gxh6,Nf5,Kh7,Qe3,Ng4,Qh3,Bg5,f3,Ngf6,g3,Rg8,f4,exf4,Nf3,fxg3', 'Nxg5+,Rxg5,Qxh6+,Kg8,Qxg5+', 'https://lichess.org/training/TnCdT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tnelb', 'Rapid', 'eskerzade2008', 2316, 'Emiryusuf06', 2122, 'd4,c6,Nf3,d5,Bf4,Bg4,e3,e6,Be2,Bd6,Ne5,Bxe2,Qxe2,Nf6,c3,Nbd7,Nxf7,Kxf7,Bxd6,Nb6,Bg3,Rf8,O-O,Kg8,Nd2,Qe8,e4,dxe4,Nxe4,Qg6,Nxf6+,Rxf6,Rfe1,Re8,Qe4,Qf7,Re2,Nd5,Rae1,h5,c4,Nc7,Bxc7,Qxc7,d5,Rf4,Qe5,Qxe5,Rxe5,Rxc4,dxe6,g6,e7,Kf7,R5e3,Rc2,Rf3+,Kg7,Rb3,b6,h3,Rc5,Re6,Kf7,Rbe3,Rc2,g3,Rxb2,Rxc6,Rxe7,Rxe7+,Kxe7,Rc7+,Ke6,Rxa7,b5,Ra6+,Kf5,Ra5,Ke4,Kg2,g5,a4,b4,Rxg5,Ra2,a5,Kd4,Rxh5,Kc4,Rh8,Rxa5,Re8,b3,Re1,Kc3,h4,Ra2,h5,Kc2,Re3,b2,Re2+,Kd3,Re3+,Kd4,Rb3,Kc4,Rb8,Kc3,g4,Ra4,Kg3', 'Rb4,Rxb4,Kxb4', 'https://lichess.org/training/tnelb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TNelD', 'Rapid', 'citrus', 1831, 'viktor_kulikovskiy', 1815, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,dxe5,dxe5,Qxd8,Rxd8,Bg5,h6,Bxf6,Bxf6,Nd5,Kg7,Nxc7,Bg4,Nxa8,Rc8,Rc1,Nc6,h3,Be6,Nd2,Rxa8,O-O,Nd4,Bg4,Bg5,Rfd1', 'Bxg4,hxg4,Ne2+,Kf1,Nxc1', 'https://lichess.org/training/TNelD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tNEQD', 'Rapid', 'mixgr', 2365, 'FM Wizzard1971', 2371, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Qc7,Bg5,Nf6,Nd2,Bg4,Qb3,e6,Ngf3,Be7,Bh4,O-O,Bg3,Bd6,O-O,Bxg3,fxg3,Rab8,Ng5,h6,Rxf6,gxf6,Nh7,Qe7,Nxf8,Qxf8,h3,Bh5,g4,Bg6,Qc2,Kg7,Nf3,Rc8,Qe2,Qd6,Re1,Bxd3,Qxd3,Re8,Nh4,Ne7,Qf3,Ng6', 'Nf5+,exf5,Rxe8', 'https://lichess.org/training/tNEQD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TNERi', 'Rapid', 'Gambito14', 1724, 'reynico', 1798, 'd4,d5,c4,dxc4,e3,Bf5,Bxc4,Nc6,Qf3,e6,Bb5,Nf6,Bxc6+,bxc6,Qxc6+,Ke7,Nf3,Rb8,O-O,Qd6,Qxd6+,cxd6,Nc3,h6,a3,g5,Nd2,d5,f3,Bg7,e4,dxe4,fxe4,Bg6,e5,Nh5,Nc4,Rhc8,Na5,Bd3,Rf3,Ba6,b4,Nf4,b5,Bb7,Nxb7,Rxb7,a4', 'Rxc3,Rxc3,Ne2+,Kf2,Nxc3', 'https://lichess.org/training/TNERi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tNf8N', 'Rapid', 'Volchenok', 1976, 'vladimir09', 1821, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,Be7,Re1,d6,c3,Bg4,d3,Na5,Bc2,c5,Nbd2,O-O,Nf1,c4,d4,exd4,cxd4,Re8,h3,Bc8,Ng3,Bb7,d5,Bf8,Bg5,h6,Bd2,Qc7,Nd4,Rac8,Rc1,Ba8,Nh5,Nxh5,Qxh5,Nb7,Re3,Nc5,Nf5,g6,Nxh6+,Kh7,Qh4,Bxh6,Rf3,Rh8,Qxh6+,Kg8,Qf4,Rh7,Bc3,Qe7,Bf6,Qd7,Bd4,Re8,Bf6,Qc7,Bd4,Nd7,Re1,Ne5,Qf6,Qe7,Qf4,Nxf3+,gxf3,Rxh3,Bf6,Qd7,Kg2,Rh5,Bd4,Bb7,Kf1,Bc8,Qf6,Rh1+', 'Ke2,Rh7,Rh1', 'https://lichess.org/training/tNf8N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TNFiZ', 'Blitz', 'sanekkhb', 1830, 'pepbox', 1861, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,c3,Bc5,Be3,d6,Nxc6,bxc6,Bxc5,dxc5,Qxd8+,Kxd8,Bc4,Nh6,h3,Re8,f3,f5,Nd2,fxe4,Nxe4,Bf5,Bd3,Ke7,Nxc5,Kf6+,Kf2,Rad8,Bxf5,Rd2+,Kg3,Nxf5+,Kf4,g5+,Kg4,Rxg2+,Kh5,Re3,Ne4+,Ke5,Nxg5,Ng7+,Kh6,Kf4,h4,Nf5+,Kxh7,Re7+,Kh8,Nxh4,Rxh4+,Kxg5,Rg4+,Rxg4,fxg4', 'Kg6,Rf1,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/TNFiZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tnFkW', 'Blitz', 'cihanakif', 2011, 'YaNy95', 1935, 'c4,Nf6,g3,e6,Bg2,d5,Nf3,Be7,O-O,O-O,b3,c5,Bb2,Nc6,e3,d4,exd4,cxd4,Re1,Qb6,Ne5,Nxe5,Rxe5,Bd6,Rb5,Qc7,Bxd4,a6,Rg5,h6,Bxf6,hxg5,Bxg5,Be5,d4,Bd6,Nc3,Be7,Bxe7,Qxe7,Ne4,Rb8,Qh5,g6,Qh6,f5,Qxg6+,Qg7,Qxg7+,Kxg7,Nc5,b6,Na4,Rd8,Re1,Rxd4,c5,bxc5,Nxc5,Kf6,Bf1,Rd2,a4,a5,Bc4,Rb6,h4,Rbd6,Kh2,Rxf2+,Kg1,Rdd2,Bxe6,Rg2+,Kh1,Bxe6,Rxe6+,Kg7,Re7+,Kh6,Re3,Rgf2,Kg1,Rb2,Nd3,Rg2+,Kf1,Ra2,Nf4,Rh2,Kg1,Rhb2,Re6+,Kg7,Re1,Kf7,h5,Rxb3,h6,Rxg3+,Kh1,Kg8,Re7,Rf3', 'h7+,Kh8,Ng6#', 'https://lichess.org/training/tnFkW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TNGac', 'Classical', 'ishir', 2168, 'JormundgandervsThor', 2221, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Nxe5,Rxe5+,Be7,Bf1,O-O,d4,Bf6,Re1,Re8,c3,b6,Bf4,Bb7,Bxd6,cxd6,Bd3,Qc7,Na3,Qc6,f3,Bg5,Be4,d5,Bd3,a6,Nc2,Qh6,Re2,Kf8,Qf1,Rxe2,Qxe2,Re8,Qf1,a5,Re1,Bf4,g3,Qg5,Kf2,Bd6,Rxe8+,Kxe8,Qe2+,Be7,Ne3,Kd8,h4,Qf6,Nf5,Bf8,Qe3,g6,Nh6,Bg7,Ng4,Qe6,Qf4,Kc8,Ne3,h5,Kg2,Bf6,c4,Be7,b3,Bd6,Qg5,dxc4,Bxc4,Qe8,Kf2,b5,Bxb5,f6,Qh6,Kc7,a4,Bb4,Nc4', 'Qe1+,Kg2,Qe2+', 'https://lichess.org/training/TNGac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TnhK1', 'Blitz', 'emsrreddy', 1719, 'Jalham', 1599, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Na5,c3,Nxb3,axb3,d6,O-O,Nf6,Re1,Be7,h3,O-O,d4,exd4,cxd4,Re8,Nc3,Bb7,b4,d5,e5,Ne4,Nd2,Nxd2,Bxd2,Bxb4,Re3,Be7,Rg3,b4,Qg4,g6,Ne2,c5,e6,cxd4,exf7+,Kxf7,Rf3+,Kg8,Qe6+,Kh8,Qe5+,Kg8,Bh6,Bf8', 'Rxf8+,Rxf8,Qg7#', 'https://lichess.org/training/TnhK1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TNhpW', 'Blitz', 'Materialmaster', 1985, 'Cordeiro1994', 2003, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Bd7,Bd3,Bc6,c3,Nd7,Qe2,Be7,Nf3,Ngf6,Neg5,O-O,h4,Re8,Bd2,Nf8,O-O-O,Qd5,Kb1,a5,Ne5,Ba4,Rdg1,c5,Ngxf7,cxd4,Nh6+,gxh6,Bxh6,dxc3,Rh3,Kh8,Rg3,Ng6,Bxg6,hxg6,Rxg6,Qe4+,Qxe4,Nxe4', 'Nf7+,Kh7,Rg7#', 'https://lichess.org/training/TNhpW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tNhuL', 'Rapid', 'CapsicumAnnuum', 1629, 'hotblack', 1642, 'Nf3,c5,d4,cxd4,Nxd4,Nc6,Nc3,g6,Bf4,Bg7,Ndb5,e5,Nd5,Qa5+,b4,Qxb5,Nc7+,Kf8,Nxb5,exf4,Nc7', 'Bc3+,Qd2,Bxd2+,Kxd2,Rb8', 'https://lichess.org/training/tNhuL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tnHXw', 'Rapid', 'Ayushkumar2507', 1675, 'szymus2', 1697, 'e4,c5,Nf3,e6,d4,d5,c3,a6,exd5,exd5,Bd3,Nf6,O-O,Be7,Bf4,O-O,Ne5,cxd4,cxd4,Bd6,Re1,Qb6,b3,Qxd4', 'Bxh7+,Nxh7,Qxd4', 'https://lichess.org/training/tnHXw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tNIIA', 'Rapid', 'Emmez', 1695, 'Ward94', 1649, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Nxc6,dxc6,Qxd8+,Kxd8,Bc4,Ke7,Bg5,h6,Bh4,g5,Bg3,Bb4,a3,Bxc3+,bxc3,Nxe4,Bxc7,Nxc3', 'Be5,Re8,Bxc3', 'https://lichess.org/training/tNIIA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TnIQK', 'Rapid', 'IngBjo', 2216, 'PawnPassion', 2218, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Nc6,Nc3,Nf6,e3,a6,Nf3,Bg4,Qb3,Bxf3,gxf3,Na5,Qa4+,b5,Nxb5,axb5,Bxb5+,Nd7,Rc1,Nc6,Bxc6,Rxa4,Bxa4,e5,Bxd7+,Qxd7,Bxe5,Bb4+,Kf1,Qh3+,Ke2,O-O,a3,Be7,Rc7,Bd8,Rc5,Be7,Rxd5,Rc8,Rd1,Rc2+,Rd2,Rxd2+,Kxd2,Qxf3,Rd7,Qxf2+,Kd1,Qf1+,Kd2,Qg2+,Kd3,Kf8,b4,f6,Bg3,Qf1+,Ke4,f5+,Kd5,Qb5+,Ke6,Qc6+,Bd6,Bxd6', 'Rd8+,Qe8+,Rxe8+,Kxe8,Kxd6', 'https://lichess.org/training/TnIQK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TNIuX', 'Rapid', 'grogrogo', 1913, 'aobreezy', 1683, 'd4,g6,e4,Bg7,c4,d6,Nc3,Nf6,h3,O-O,Bd3,Nc6,a3,Nxd4,Be3,Ne6,Nge2,c5,O-O,a5,Qc2,Nc7,Rad1,e5,f4,exf4,Bxf4,Ne6,Bh2,Re8,Ng3,Nd4,Qf2,Bd7,Rfe1,Rb8,Nf1,Bc6,e5,Nh5,exd6,b5,cxb5,Nxb5,Nxb5,Bxb5,Bxb5,Rxb5,Rxe8+,Qxe8,Kh1,Rxb2,Qxc5,Nf6,Be5,Ne4', 'd7,Qxd7,Rxd7,Nxc5,Rd8+', 'https://lichess.org/training/TNIuX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tNiyk', 'Rapid', 'hamoninja', 1677, 'Thunder00', 1628, 'e4,d5,exd5,Qxd5,Nc3,Qa5,f4,c6,Nf3,Bg4,Be2,e6,O-O,Qc7,d4,Bd6,Ne5,Bf5,Bg4,Bxe5,fxe5,Bg6,Ne2,Nd7,Nf4,O-O-O,c3,h5,Bf3,Bf5,Qa4,Kb8,b4,g5,Ne2,g4,Ng3,gxf3,Nxf5,exf5,Rxf3,Ne7,Qb3,Rdf8,e6,fxe6,Qxe6,Nd5,c4,Nxb4', 'Bf4,Qxf4,Rxf4', 'https://lichess.org/training/tNiyk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tnJEL', 'Blitz', 'staxmann', 1915, 'blkknight', 1924, 'd4,Nf6,Bg5,e6,Nd2,Be7,e4,O-O,Bd3,h6,Bh4,d6,f4,c5,c3,cxd4,cxd4,Nc6,Ngf3,Re8,O-O,a6,Kh1,b5,a3,Bb7,Rc1,Rc8,Bb1,Qd7,Qe2,Nh5,Bxe7,Qxe7,g3,Nf6,e5,dxe5,dxe5,Ng4,h3,Nd4,Qd3,Rxc1', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/tnJEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tnjkU', 'Rapid', 'Roope69', 1813, 'krishnav21', 1839, 'e4,b6,Nc3,d6,Bc4,Bb7,d3,Nf6,f4,e6,Nf3,Be7,O-O,d5,exd5,exd5,Bb3,O-O,Bd2,Nc6,Ne2,Qd7,Ne5,Nxe5,fxe5,Ne8,d4,c5,Qe1,c4,e6,fxe6,Rxf8+,Bxf8,Bxc4,dxc4,Qg3,Nf6,Rf1,Qd5,Nf4,Qxd4+,Rf2,Ne4,Nxe6,Qxd2', 'Rxf8+,Rxf8,Qxg7#', 'https://lichess.org/training/tnjkU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TnjQS', 'Rapid', 'taugeros', 1849, 'M_BERKE', 1789, 'e4,e5,Bc4,Nf6,d3,c6,f4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nbxd7,fxe5,Nxe5,Qe2,Qe7,Bg5,Neg4,h3,Qxe2+,Nxe2,Ne5,Bxf6,gxf6,Nbc3,Rd8,O-O-O,Bh6+,Kb1,a6,g4,b5,Rhf1,Bg7,Rfe1,b4,Na4,d4,Ng3,O-O,Nf5,Rfe8,Rg1,Ng6,g5,fxg5,Rxg5,Re2,h4,h6,Rg4,h5,Rg5,Kf8,Rxh5,Rc8,Nxg7,Kxg7,Rg5,Kf6,Nc5,Nxh4,Rh5,Kg6,Rxh4,Rxc5,Rg1+,Kf5', 'Rh5+,Ke6,Rxc5', 'https://lichess.org/training/TnjQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tNKZA', 'Blitz', 'gmchess2800', 1822, 'HardPieces', 1831, 'e4,e5,Bc4,d6,f4,f5,fxe5,dxe5,Nf3,Nc6,O-O,Nf6,Ng5,Bc5+,Kh1,Ng4,Bf7+,Kf8,Ne6+,Bxe6,Bxe6,Nf2+,Rxf2,Bxf2,Qf3,Qf6,Bxf5,Bc5,Qd1,Kf7,c3,Rhf8,Qb3+,Ke7,d4,exd4,Qxb7,Rab8', 'Qxc7+,Ke8,Qd7#', 'https://lichess.org/training/tNKZA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tnMCQ', 'Blitz', 'FM andro2', 2347, 'TedyKabTasikmalaya', 2066, 'e4,c5,Nf3,Nc6,d4,cxd4,Bc4,e6,Nxd4,Nf6,Nxc6,bxc6,Qe2,Nxe4,Qxe4,d5,Qe2,dxc4,Qxc4,Bd6', 'Qxc6+,Qd7,Qxa8', 'https://lichess.org/training/tnMCQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TNmFq', 'Blitz', 'Georgich', 1835, 'BamBoozle77', 1737, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d4,Bb4+,Nc3,Ne4,Ne2,Bxc4,a3,Bxc3+,Nxc3,Nxc3,bxc3,Qe7+,Be2,O-O,Be3,Bd5,O-O,Nc6,c4,Be4,d5,Ne5,f4,Ng6,Qd4,Rfe8,Bf3,Bxd5,Bxd5,c6,Bxf7+,Qxf7,f5,Ne5,f6,g6,Bh6,Nxc4,Bg7,b5,Qh4,Rad8,Rf3,Ne5', 'Qxh7+,Kxh7,Rh3+,Kg8,Rh8#', 'https://lichess.org/training/TNmFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tnmz1', 'Rapid', 'vichentii', 2040, 'racazabryan', 2093, 'e4,d6,Nf3,Bg4,h3,Bh5,d4,Nd7,Nc3,Bxf3,Qxf3,Rb8,Bb5,a6,Bc4,e6,Bf4,g6,O-O-O,Bg7,e5,d5,Be2,Ne7,Bg5,c5,dxc5,Nxe5,Qg3,Rc8,f4,Nd7,Rd3,Qc7,Bxe7,Kxe7,Bg4,h5,Re1,hxg4', 'Nxd5+,Kd8,Nxc7', 'https://lichess.org/training/tnmz1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tnNqA', 'Rapid', 'gajar2018', 1823, 'Parakmia', 1922, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,h6,Bh4,g5,Bg3,Ng4,Be2,h5,h3,Ne5,Qd2,Bg7,O-O-O,Nbd7,Qxg5', 'Bh6,Qxh6,Rxh6', 'https://lichess.org/training/tnNqA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tnnZs', 'Rapid', 'taco3000', 1860, 'Alsdf', 1832, 'e4,c5,d3,Nc6,Be2,Nf6,Nf3,d6,O-O,g6,c3,Bg7,Bd2,O-O,a3,Bg4,h3,Bxf3,Bxf3,Ne5,Be2,a6,d4,cxd4,cxd4,Nc6,d5,Ne5,Bc3,Nxe4,Bf3,Nxf3+,Qxf3,Nxc3,Nxc3,b5,Rae1,Re8,Ne4,Bxb2,Ng5,Bf6,h4,h5,Qf4,Bxg5,Qxg5,Kg7,Re3,e6,Qf4,exd5,Rf3,Ra7', 'Qd4+,Re5,Qxa7', 'https://lichess.org/training/tnnZs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tnpd3', 'Rapid', 'Diagonalle', 1870, 'NM esrosenberg', 1972, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Bc5,c3,Ba7,O-O,h6,h3,O-O,Re1,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,d4,Re8,Rxe8+,Qxe8,Nd2,Nf4,Nf3,Ne2+,Kf1,Nxc1,Rxc1,c5,dxc5,Bb7,Nd4,Bxc5,Qd3,Rd8,Bc2,g6,Re1', 'Bxg2+,Kxg2,Qxe1', 'https://lichess.org/training/Tnpd3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TNpFO', 'Rapid', 'koreelev', 1920, 'loveol', 2057, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Qc7,Nc3,Nf6,Be2,Be7,O-O,h5,f4,b6,e5,Ne4,Nxe4,Bb7,Nd6+,Bxd6,exd6,Qxd6,Nf3,Qc5+,Kh1,Nc6,a3,h4,b4,Qf5,Ne5,Nxe5,fxe5,Qxe5,Bf4,Qc3,h3', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/TNpFO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TNpgr', 'Rapid', 'Cerjjjj', 1986, 'Dybala07', 2011, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Nc6,O-O,Nge7,c3,O-O,h3,Ng6,Bc2,Nf4,Bxf4,Bxf4,Qd3,g6,Nbd2', 'Bf5,Qe2,Bxc2', 'https://lichess.org/training/TNpgr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TnQCX', 'Rapid', 'gtaivan', 1995, 'AhmedNagy1992', 1987, 'd4,Nf6,f3,d5,Bg5,e6,e3,Bd6,Nd2,h6,Bh4,g5,Bf2,Nbd7,Bd3,c5,c3,c4,Bc2,Nb6,Qe2,Bd7,g4,Qe7,h4,O-O-O,hxg5,hxg5,Rxh8,Rxh8,O-O-O,Ba4,b3,Ba3+,Kb1,Bd7,e4,Kb8,b4,Ba4,exd5,Bxc2+,Kxc2,Nfxd5', 'Qe5+,Kc8,Qxh8+', 'https://lichess.org/training/TnQCX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TNSxH', 'Rapid', 'Sourav4chess', 2030, 'Chinama', 2052, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,a3,a5,b3,Ngxe5,Bb2,Nxf3+,Qxf3,O-O,Qg3,f6,Bd3,d6,Qh4,f5,Qg3,Qe7,O-O,Ne5,Bc2,Bd7,Nc3,c6,Rad1,Rf6,Qf4,Ng6,Qg5,h6,Qg3,Ne5,f4,Ng4,Rde1,Re8,Nd1,Rg6,h3,Ne5,Qf2,Nf7,Bc1,Nd8,Kh1,Ne6,Qf3,Nd4,exd4,Qxe1,Rxe1,Rxe1+,Kh2,Bxd4,Bd2,Bg1+,Kh1,Re7,Kxg1,Be6,Kh1,d5,g4,dxc4,gxf5', 'Bd5,Qxd5+,cxd5,fxg6,Re2', 'https://lichess.org/training/TNSxH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tNUcD', 'Rapid', 'HA2332', 1615, 'rahim147', 1964, 'e4,c5,Nf3,Nc6,c3,e5,d4,exd4,cxd4,cxd4,Nxd4,Bb4+,Nc3,Bxc3+,bxc3,Nge7,Bg5,O-O,Bd3,Qa5,Bd2,Ne5,Qc2,Nxd3+,Qxd3,Ng6,O-O,d5,c4,dxc4,Qc2,Qc7,Nb5,Qc5,a4,a6,Nc3,Be6,Na2,Rfd8,Be3,Qc6,Nb4,Qc7,f4,Ne7,f5,Bd7,f6,Ng6,fxg7,b5,Nd5,Qe5,Nf6+,Kxg7,Rad1,Be6,Nd5,Bxd5', 'Bd4,Qxd4+,Rxd4', 'https://lichess.org/training/tNUcD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tNusO', 'Rapid', 'niklas_8', 1831, 'DoctorToprak', 1854, 'e4,b6,d4,Bb7,e5,e6,c4,c5,d5,g6,d6,Nc6,Nf3,f6,exf6,Nxf6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Na5,Nc3,a6,Bd3,Bxd6,Bg6+,Ke7,Ne4,Bxe4,Bxe4,Rb8', 'Bxf6+,Kxf6,Qxd6', 'https://lichess.org/training/tNusO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TNWFy', 'Blitz', 'CM vovaches', 2420, 'OlegSchach', 1826, 'd4,d5,Nf3,c6,g3,Nf6,Bg2,Bf5,Kf1,e6,h3,h6,Kg1,Be7,c4,O-O,Nc3,Nbd7,Bf4,Rc8,Kh2,a6,g4,Bh7,c5,b5,cxb6,Qxb6,Na4,Qb4,Ne5,Nxe5,Bxe5,Ne4,a3,Qb5,Rf1,f6,Bg3,c5,dxc5,Nxc5,Nxc5,Bxc5,b4,Bb6,Rc1,Qd7,Qb3,Rxc1,Rxc1,Rc8,Rxc8+,Qxc8,Qa4', 'Bc2,Qxc2,Qxc2', 'https://lichess.org/training/TNWFy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TnWyM', 'Rapid', 'miratoca', 2149, 'Sakinaga01', 2144, 'd4,c5,d5,Nf6,c4,b5,b3,g6,Bb2,Bg7,Qc2,O-O,e4,d6,Bd3,bxc4,bxc4,e6,Nc3,exd5,exd5,Re8+,Nge2,Na6,a3,Nc7,O-O,Rb8,Rac1,Ba6,a4,Qd7,Nb5,Bc8,Nxa7,Na6,Nc6,Nb4,Nxb8,Qb7,Qd2,Nxd3,Qxd3,Bf5,Qa3,Rxb8,Bc3,Bh6,f4,Ne4,Ba1,Qe7,Ng3,Nd2,Nxf5,gxf5,Rfe1,Ne4,g3,f6,Rb1,Rb4,Rxb4,cxb4,Qxb4,Qa7+,Kg2,Qf2+,Kh3,Qf3,Qb8+,Bf8,Qe8', 'Nf2+,Kh4,Qg4#', 'https://lichess.org/training/TnWyM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TnyS6', 'Blitz', 'Oasac', 1602, 'Edgar86', 1648, 'e4,e5,Nf3,Nf6,Nc3,Bc5,d3,c6,Nxe5,b5,a3,a5,Bg5,d6,Nf3,Bg4,Be2,Qe7,O-O,Nbd7,d4,Bb6,e5,dxe5,dxe5,Bxf3,Bxf3,Nxe5,Bxc6+,Nxc6,Re1,Ne5,Bxf6,Qxf6,Nd5,Qxf2+,Kh1,O-O,Rxe5,Rad8,Ne7+,Kh8,Qh5,Qxc2,h3,Qxb2', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/TnyS6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TnzN6', 'Blitz', 'babadroga92', 2467, 'FM joflo', 2337, 'e3,g6,Nf3,Bg7,c4,Nf6,Nc3,O-O,Be2,d5,cxd5,Nxd5,O-O,c5,a3,Nc6,Qb3,Be6,Qxb7,Na5,Qa6,h6,Rb1,c4,Nd4,Bxd4,exd4,Bc8,Qb5,Nf4,Bf3,Bd7,Qe5,Nd3,Qe3,Bf5,Bxa8,Qxa8,Qxh6,Nb3,Ne2,Rd8,h4,Bg4,f3,Be6,h5,Bf5,hxg6,Bxg6,Ng3,Rd5,f4,Nxd4,b4,cxb3,Bb2,Nxb2,Rxb2,Nf5,Nxf5,Rxf5,Rxb3', 'Rh5,Rfb1,Rxh6', 'https://lichess.org/training/TnzN6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TnzUK', 'Rapid', 'mohahakel', 1802, 'peter111697', 1776, 'd4,e5,dxe5,Qe7,Nf3,Nc6,Qd5,f6,exf6,Nxf6,Qb3,d5,Bg5,Be6,Qxb7,Qb4+,Qxb4,Nxb4,Na3,Nc6,Bxf6,gxf6,Nb5,Kd7,O-O-O,Rb8,e3,Nb4,a3,Nc6,e4,Ne7,exd5,Bg4,Nxa7,f5,Nc6,Bg7,Nxb8+,Rxb8,b4,Ra8,Rd3,Ng6,h3,Bh5,Ng5,Nf4,Rb3,Nxd5,Rd3,Kc6,Ne6,Bh6+,Kb1,Re8,Nc5,Re1+,Kb2,Bg7+,Kb3,Bf7,Ka4,Ra1,Nb3', 'Nb6+,Ka5,Rxa3#', 'https://lichess.org/training/TnzUK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tO2Uh', 'Classical', 'RipleyVolta', 1722, 'AntonioPedicini', 1671, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bg5,Qb6,b3,Nd7,Bd3,Bxd3,Qxd3,c5,c3,Be7,Bf4,O-O-O,O-O,h6,Nbd2,g5,Bg3,g4,Nh4,Bxh4,Bxh4,Rf8,c4,cxd4,cxd5,Nxe5,Rac1+,Kd7,Qc2,h5,Bg3,f6,Rfe1,exd5,Bxe5,fxe5,Rxe5,Ne7,Rce1,Rf7,Nb1,g3,Rxe7+,Rxe7,Qf5+,Kd8,Qxd5+,Rd7,Qg5+,Kc8,Rc1+,Kb8', 'Qe5+,Qd6,Qxh8+', 'https://lichess.org/training/tO2Uh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tO4Ih', 'Rapid', 'ArturBondarenko1984', 2109, 'ebi1', 2108, 'e4,e6,d4,b6,c4,Bb7,Nc3,Bb4,Bd3,Nf6,Ne2,Nxe4,Bd2,Nxd2,Qxd2,Qf6,O-O,d6,a3,Bxc3,Qxc3,Qg5,f3,Nd7,Ng3,Qe3+,Kh1,Nf6,Rae1,Qf4,Ne4,Nxe4,Bxe4,Bxe4,Rxe4,Qf6,b4,O-O,Rg4,c5,Qd3,Rfd8,d5,e5,b5,a6,a4,axb5,axb5,Ra4,f4,exf4,Rgxf4,Qg6,Qd1,Ra7,Rg4,Qh6,Re1,Kf8,Rge4,Qg5,Qe2,g6,Re8+,Rxe8,Qxe8+,Kg7,Qb8,Ra2,Rg1,Rc2,Qxd6,Rxc4,Qxb6,Qxd5,Qa6,Rb4,Rf1,Rb2', 'Qf6+,Kh6,Qxb2', 'https://lichess.org/training/tO4Ih');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tO5Vb', 'Blitz', 'mohammed001alsalman', 1680, 'Obelix159', 1794, 'c4,e5,g3,Ne7,Bg2,g6,Nc3,Bg7,Nf3,c6,d3,O-O,Bg5,f6,Bd2,d5,b3,Bf5,O-O,Na6,Re1,d4,Na4,b5,Nb2,Rc8,Nh4,Be6,e3,Nc5,b4,Nb7,a4,bxc4,Nxc4,Bxc4,dxc4,g5,Nf3,Nf5,e4,Nfd6,c5,Nf7,Bc1,a5,Ba3,axb4,Bxb4,Ra8,Qd2,Qc7,a5,Nbd8,Reb1,Ne6,a6,Rfb8,Ba5,Qc8,Rxb8,Qxb8,Bb6,Nfd8,a7,Qb7,Qa5,Nf7,Qa6,Qxa6,Rxa6,Bf8,Nd2,Nxc5,Ra5,Nb7,Ra1,Nfd6,Bf1,Nb5,Bxb5,cxb5,Nb3,Be7,Na5,Nxa5,Rxa5,Kf7,Rxb5,Ke6,Rd5,Bd6,Kf1,Kd7,Ke2,Kc6,Ba5,Rxa7,Kd3,Rb7,Bd2,Rb3+,Kc2,Ra3', 'Rxd6+,Kxd6,Bb4+,Ke6,Bxa3', 'https://lichess.org/training/tO5Vb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TO61F', 'Blitz', 'Srjjskkmmm854378', 1579, 'sanjay_fearless', 1541, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bb7,Nc3,Bc5,d3,Nf6,h3,O-O,O-O,Nh5,Nd5,Nf4,Nxf4,exf4,Bxf4,Qf6,Bd2,Nd4,Nxd4,Bxd4,c3,Ba7,Qe2,d5,exd5,Rfe8,Be3,a5,a3,a4,Ba2,c6,dxc6,Bxc6,Qd2,Qg6,g3,Qh5,Qd1,Qxh3,f3,Bxe3+,Rf2,Bxf3,Qxf3,Bxf2+,Qxf2,Re7,Qf3,Rae8,Rf1,Re2', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/TO61F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('To8AI', 'Blitz', 'LM Lance5500', 2379, 'IM opperwezen', 2435, 'e4,e5,Nf3,d6,d4,Qe7,Bc4,c6,h3,h6,O-O,Nf6,b3,Qc7,Re1,Be7,a4,a5,Nbd2,Nbd7,Nf1,g6,Ne3,b6,d5,c5,Nf1,Kf8,Bb5,Bb7,Bxd7,Qxd7,N3d2,Kg7,Nc4,Qc7,Bb2,Nh5,g3,Rhe8,f4,Bf8,fxe5,dxe5,Kh2,Rad8,Nfd2,Nf6,Nf3,Nd7,d6,Qb8,Nfxe5,Nxe5,Nxe5,Kh7,Ng4,Rxd6,Qxd6,Bxd6,Nf6+,Kh8,Nxe8+', 'Be5,Bxe5+,Qxe5', 'https://lichess.org/training/To8AI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('to8yH', 'Blitz', 'Winterisc', 1829, 'esco2340', 1826, 'e4,c5,Nf3,Nc6,d3,g6,Be3,Bg7,Be2,b6,Nc3,Nf6,Qd2,d5,exd5,Nxd5,d4,cxd4,Nxd4,Nxe3,fxe3,Nxd4,exd4,Qxd4,Bd3,Qe5+,Be2,Bg4,O-O-O,Bxe2', 'Qd7+,Kf8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/to8yH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ToBrA', 'Blitz', 'andelfox', 2317, 'FM jhedigm', 2492, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Nd7,O-O,h6,c4,Ne7,Nc3,Bh7,cxd5,cxd5,Be3,Nc6,Rc1,Be7,Bd3,Bxd3,Qxd3,O-O,a3,Rc8,h3,Na5,Nh2,Nc4,Qe2,Qb6,Rc2,Qb3,Rfc1,Ndb6,Ng4,Nxe3,Qxe3,Rc6,Qg3,Kh8,f4,Rc4,Qd3,Rfc8,Ne3,R4c7,f5,Bg5,Rf1', 'Bxe3+,Qxe3,Qxc2', 'https://lichess.org/training/ToBrA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tOcUf', 'Rapid', 'demonvortex', 2097, 'RS_8_2014', 2048, 'Nf3,d5,b3,c5,Bb2,Nc6,e3,Nf6,Be2,e6,d4,Be7,O-O,O-O,c4,b6,Nc3,Bb7,Rc1,Rc8,Bd3,dxc4,bxc4,Qe8,Bb1,cxd4,exd4,Rd8,d5,exd5,cxd5,Nb4,Re1,Qd7,Ne5,Qd6,Nb5,Qxd5,Qxd5,Nbxd5,Nxa7,Bc5,Nac6,Rd6,Nd4,Nf4,Nf5,Rd2,Ne7+,Kh8,Rxc5,bxc5,Bc1,Re2,Rd1,Nxg2', 'Nxf7+,Rxf7,Rd8+,Ne8,Rxe8+,Rf8,Rxf8#', 'https://lichess.org/training/tOcUf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tOcX4', 'Rapid', 'Drod830', 2055, 'satvik_lolla', 2212, 'Nf3,Nf6,d3,g6,Nbd2,Bg7,g3,O-O,Bg2,d6,e4,Nc6,Nf1,e5,Ne3,Ng4,O-O,Nxe3,Bxe3,f5,Bg5,Bf6,Bh6,Bg7,Qd2,f4,Bxg7,Kxg7,d4,Qf6,d5,Nd8,c4,Bg4,Ne1,g5,h3,Bd7,g4,h5,f3,hxg4,hxg4,Rh8,Nd3,Qh6,c5,Qh2+,Kf2,Qg3+,Kg1,Nf7,Rfc1,Rh6,Qf2,Qh2+,Kf1,Rah8,Ke2,Bb5,a4,Bxd3+,Kxd3,Rh3,cxd6,cxd6,Rc7,Rg3,Rg1,Rb8,Rc2,b6', 'Rh1,Qxg2,Qxg2,Rxg2,Rxg2', 'https://lichess.org/training/tOcX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TofpO', 'Blitz', 'larslur', 1925, 'CM Johansson', 2275, 'e4,c5,b3,Nc6,Bb2,e5,Nc3,Nf6,Bb5,d5,Bxc6+,bxc6,Qe2,Bd6,d3,O-O,f3,c4,dxc4,dxe4,Nxe4,Nxe4,Qxe4,Qe7,O-O-O,Bb7,Ne2,a5,a4,f5,Qd3,Rad8,Nc3,e4,fxe4', 'Bf4+,Kb1,Rxd3', 'https://lichess.org/training/TofpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ToGUH', 'Rapid', 'jozef1234x', 2125, 'joseph78012', 2056, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,a3,Be7,e4,c5,d5,exd5,exd5,d6,Nf3,Bg4,Be2,Nbd7,O-O,Re8,Bf4,a6,a4,Nf8,h3,Bh5,Rfe1,Bg6,Bd3,Qc7,Re2,Bxd3,Qxd3,Ng6,Bh2,Bf8,Rae1,Rxe2,Rxe2,Qd7,b3,Re8,Ng5,h6,Nge4,Nxe4,Nxe4,Ne5,Bxe5,Rxe5,f4,Re8,Qg3,Kh8,Kh2,Qf5,Qf3,Qd7,f5,Re5,g4,Qe8,h4,f6,Kg3,b5,axb5,axb5,Nc3,bxc4,bxc4,Qb8,Rxe5,dxe5,g5', 'e4+,Qf4,Bd6', 'https://lichess.org/training/ToGUH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TogZC', 'Blitz', 'GM DoubleExpresso', 2479, 'Juti', 2196, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,dxc4,a4,b5,axb5,cxb5,Bxf6,gxf6,Nxb5,Qb6,Nc3,Qxb2,Rc1,Bb4,Qd2,Qa3,e3,Ba6,Be2,Rg8,O-O,Nd7,Ra1,Bxc3,Rxa3,Bxd2,Nxd2,Bb7,g3,Nb6,Rb1,c3,Rxc3,f5,Rc7,Bd5,Ra1,a5,Bh5,Rf8,Nf3,a4,Ne5,a3,Nxf7,a2,Nd6+,Kd8,Rxh7,Nc4,Nxc4,Bxc4,Bf3,Rb8,Rb7,Rxb7,Bxb7,Kc7,Ba6,Bxa6,Rxa2,Bc4', 'Rc2,Ra8,Rxc4+', 'https://lichess.org/training/TogZC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tohks', 'Blitz', 'thibault0507', 1898, 'pranavv007', 1969, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,Bg4,h3,Bh5,g4,Bg6,Nc3,Qa5,Bd2,O-O-O,Qe2,Bb4,Nb1,Nd4,Nxd4,exd4,O-O,Rhe8,Qd1,h5,a3,Bxd2,Nxd2,hxg4,Qxg4+,Bf5,Qf4,Bxh3,Rfe1,Rh8,Nc4,Qh5,Re7,Rd7,Rxd7,Bxd7,Re1,Rh6,Kf1,Qh1+,Ke2,Re6+,Ne5,f6,Kd2,fxe5', 'Qf8+,Re8,Qxe8+,Bxe8,Rxh1', 'https://lichess.org/training/Tohks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TOj0K', 'Rapid', 'Xenocrates', 1890, 'stone90', 1804, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d6,Nbd2,O-O,Bd3,Nc6,c3,e5,dxe5', 'dxe5', 'https://lichess.org/training/TOj0K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ToJBL', 'Rapid', 'adechess', 1701, 'anatolijserb', 1745, 'e4,g6,d4,Bg7,e5,e6,Nf3,d6,Bf4,dxe5,Bxe5,Bxe5,Nxe5,f6,Nc4,Nc6,Nc3,Qxd4,Bd3,Ne5', 'Bxg6+,hxg6,Qxd4', 'https://lichess.org/training/ToJBL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TolbO', 'Blitz', 'jedzzz', 1579, 'azamat_kozhakov85', 1635, 'd4,d5,c4,Bf5,Nc3,e6,Nf3,Bb4,Bg5,Nf6,e3,h6,Bh4,O-O,Rc1,Be7,Bd3,Bg6,Qc2,Nbd7,Bxg6,fxg6,Qxg6,c6,O-O,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Qxe4,Nf6,Qd3,Ng4,h3,Rxf3,gxf3,Nf6,Kh2,Nh5,Rg1,Qh4,Rg3,Rf8,Qg6,Nxg3,fxg3,Qe7,f4,c5,d5,e5,f5,Rf6,Qg4,e4,Rd1,Qe5,b3,Rxf5,d6,Qb2+,Kh1,Rf2,Qe6+,Kh7,Qxe4+,Kg8,d7', 'Rh2+,Kg1,Qf2#', 'https://lichess.org/training/TolbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TOlCP', 'Rapid', 'ShubhamNRChoudhary_0', 1827, 'akreshaygmi', 1780, 'e4,e5,d3,Bc5,Nf3,d6,g3,Nc6,Bg2,Be6,c3,Qd7,Be3,O-O-O,Bxc5,dxc5,Nbd2,Bh3,Rg1,Bxg2,Rxg2,Qxd3,Qb3,Qd6,O-O-O,Qh6,h4,Nf6,Qxf7,Nxe4', 'Qf5+,Kb8,Qxe4', 'https://lichess.org/training/TOlCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tOLnN', 'Rapid', 'Elomensch', 1754, 'txoldi7777', 1828, 'e4,c5,c3,e6,Nf3,Nc6,d4,cxd4,cxd4,g6,Bb5,a6,Ba4,Bg7,e5,Nge7,O-O,O-O,Be3,f6,exf6,Bxf6,Nc3,b5,Bb3,Bb7,a4,Na5,Bc2,Nc4,Bh6,Rf7,b3,Nd6,Ne5,Bxe5,dxe5,Ndf5,Qd2,Nxh6,Qxh6,Nf5,Qh3,Qg5,axb5,Nh4,Be4,Bxe4,Nxe4,Qf4,Nd6,Rff8,bxa6,Qxe5,Nc4,Qd4,Rad1,Qa7,Ne5,Nf5,Nxd7,Rfd8,Nf6+,Kf7,Rxd8,Rxd8,Nxh7,Qxa6,Qc3,Rd4,Qc7+,Ne7,Ng5+,Kf6,Nf3,Qd6,Qc3,Nf5,Rd1,e5,Nxd4,Nxd4,h4,Ne2+,Kh2,Qxd1,Qf3+,Ke6,Qg4+,Kd5,Qc4+,Kd6,Qa6+,Kd5,Qc4+,Kd6,Qa6+,Ke7,Qxg6,Qd6,Qg5+,Kd7', 'Qg4+,Ke7,Qxe2', 'https://lichess.org/training/tOLnN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TOLry', 'Rapid', 'marsito', 1859, 'HolaSoyArno', 2170, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,c5,Bd3,d5,Ne2,dxc4,Bxc4,cxd4,exd4,O-O,O-O,Nc6,Be3,b6,a3,Bd6,d5,Ne5,Ba2,exd5,Nxd5,Ba6,Bg5,Be7,Nxe7+,Qxe7,Re1,Nd3,Bd2,Nxe1,Nf4,Nd3,Nxd3,Bxd3,Bb4,Qe2,Bxf8,Rxf8,Qb3,Ne4,Qd5,Qxf2+,Kh1,Qxb2,Re1,Qf2,Rg1,Qe2,Rc1,Nf2+,Kg1,Be4', 'Qxf7+,Rxf7,Rc8#', 'https://lichess.org/training/TOLry');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TOLY9', 'Blitz', 'GM zqmchess', 2611, 'mafioso_1', 2410, 'e4,c5,Nf3,Nc6,Bb5,Nf6,e5,Nd5,O-O,Nc7,Bxc6,dxc6,Nc3,g6,Ne4,b6,Re1,Bg7,Nf6+,Kf8,Ne4,h6,h3,Kg8,d3,Kh7,Bf4,Ne6,Bh2,Qd5,b3,Rd8,Qd2,Bb7,Bg3,Nd4,Nxd4,cxd4,f4,c5,a4,f5,exf6,exf6,Qf2,Re8,Nd2,f5,Nc4,Bf6,h4,h5,a5,b5,a6,Bc6,Ne5,Re6,Nxc6,Qxc6,Rxe6,Qxe6,Qf3,Rb8,Re1,Qxa6,Qd5,Qb7,Qxc5,Rc8,Qd6,Rxc2,Bf2,Bxh4,g3,Qf3,Qxd4,Bf6,Qxa7+,Kh6,Qe3,Qxe3,Bxe3,Rc3,Rd1,Rxb3,Kf2,Be7,d4,Bd6,Rc1,b4,Rc6,Bf8,Ke2,Rb1,d5,b3,Bd4,b2,Rb6,Ba3,Rb7,h4,Bf6,hxg3', 'Bg5+,Kh5,Rh7+,Kg4,Rh4#', 'https://lichess.org/training/TOLY9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tomHk', 'Rapid', 'arbull', 1751, 'PedroHumberto', 1685, 'c4,Nf6,Nf3,d5,e3,Nc6,d4,Bg4,c5,e6,Be2,Be7,h3,Bh5,Ne5,Bxe2,Qxe2,Nxe5,dxe5,Nd7,b4,Nxe5,Bb2,Bf6,O-O,O-O,Nd2,c6,Rab1,Ng6,Nf3,Bxb2,Qxb2,Qc7,Rfd1,Rfe8,Nd4,Qe5,Rd3,Nh4,Qe2,Qg5,g3,Nf5,Nf3,Qh5,Kh2,Qg6,g4,Nh6,Ne5,Qg5,f4,Qh4,Rg1,Rad8,Nf3,Qe7,Rd4,Qc7,Rg3,e5,fxe5,Re7,Rf4,Rde8', 'g5,Nf5,Rxf5', 'https://lichess.org/training/tomHk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TOP2g', 'Blitz', 'acquagratis', 1845, 'Usam', 1754, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be2,Nf6,O-O,Be7,Kh1,O-O,f4,d6,Bf3,Nc6,Be3,b5,a3,Bb7,e5,dxe5,Nxc6,Bxc6,fxe5,Bxf3,Qxf3,Qxe5,Rae1,Qc7,Bd4,Rfd8,Be5,Qc5,Ne4,Nxe4', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/TOP2g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tOP47', 'Rapid', 'Tol27', 1956, 'davoglio007', 1936, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,d6,O-O,Be7,Nd5,Nxd5,Bxd5,O-O,d3,Be6,Bb3,a5,Bxe6,fxe6,Be3,d5,Qe2,Nb4,a3,Nc6,h3,d4,Bd2,Bd6,Nh2,Qf6,f4,exf4,Rf3,e5,Ng4,Qe6,c4,Bc5,Rb1,a4,Rbf1,Rf7,g3,g5,h4,h5,Nh2,g4,R3f2,f3,Qd1,Qd7,Nxf3,gxf3,Rxf3,Rxf3,Qxf3,Qh7,Qf6,Rf8,Qe6+,Kg7,Rxf8,Kxf8', 'Bh6+,Qxh6,Qxh6+', 'https://lichess.org/training/tOP47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tOPro', 'Rapid', 'serdnachess', 1891, 'Ded_Viktor_Karasuk', 1953, 'Nf3,d5,c4,d4,b4,Nf6,Bb2,Bg4,Nxd4,e5,Nc2,Nc6,a3,a5,b5,Nd4,Nxd4,exd4,d3,Bb4+,Nd2,Bc3,Qc2,Bxd2+,Qxd2,O-O,e3,Re8,Be2,Qd6,O-O,Bxe2,Qxe2,dxe3,fxe3,h5,Bxf6,gxf6,e4,Kf8,a4,Ke7,Rad1,Rg8,Qxh5,Rh8,e5', 'Qd4+,Kh1,Rxh5', 'https://lichess.org/training/tOPro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('toq4p', 'Rapid', 'pavelsps', 1913, 'ArashEvilxxxxxx', 1927, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Nf6,fxe5,Nxe5,Nxe5,dxe5,O-O,Bc5+,Kh1,O-O,Nc3,Ng4,Qf3,Qh4,h3,Nf2+,Kh2,g5,Qg3', 'Ng4+,Qxg4,Bxg4', 'https://lichess.org/training/toq4p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('torsJ', 'Rapid', 'mirkoj', 1791, 'Roma_Il', 1723, 'e4,e6,d4,d5,Nc3,c5,Nf3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,cxd4,Nxd4,c5,Nf3,d4,Ne2,Bb7,Ng3,Bd6,e5,Bxf3,Qxf3,Bxe5,Qc6+,Ke7,Qxc5+,Qd6,Qxd6+,Bxd6,Ne4,Rc8,c3,dxc3,Nxc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Bxg3,fxg3,Rhd8,Rf2,Ng4,Re2,f5,h3,Nf6,Rf1,Kf7,Rfe1,Rd6,Re5,Rcd8,Kh2,Nd7,R5e2,Nc5,b3,Rd3,Rc1,Rd2,Rc2,Rxc2,Rxc2,Nd3,Na4,Nb4,Re2,Rd4,Nc5,Rd6,a3,Nd3,Nxd3,Rxd3,Rb2,e5,Kg1,e4,Kf2,Ke6,b4,Rxa3,b5,axb5,Rxb5,Ra2+,Kf1,e3,Rb6+,Ke5,Rxh6,Ke4,Rh8,Ra1+,Ke2,Rg1,Re8+,Kd4,Kf3', 'Rf1+,Ke2,Rf2+', 'https://lichess.org/training/torsJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TOrwy', 'Rapid', 'Luklei12', 1994, 'sidneycrode', 2104, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,c3,O-O,Bd3,Re8+,Be3,Bg4,O-O,Qc7,h3,Bh5,Re1,Nd7,Qc2,Bxf3,Bxh7+,Kh8,gxf3,g6,Bxg6,fxg6,Kh1,Nf8,Rg1,Qh7,Kg2,g5,Qxh7+,Kxh7,Kf1,Ng6,Rg4,Bf4,Ke2,Bxe3,fxe3,Re6,e4,Rae8,Rag1,Kh6,Kd2,a5,f4,Nh4,Kd3,Rxe4', 'fxg5+,fxg5,Rxe4', 'https://lichess.org/training/TOrwy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TOV6Q', 'Rapid', 'EssJaeger', 1667, 'ramsen96', 1692, 'e4,e5,Qf3,Bc5,d3,d6,Be2,Ne7,Qg3,O-O,Bh6,Ng6,Bg5,Qd7,h4,f6,Bd2,Nc6,h5,Nf4,Bxf4,exf4,Qxf4,Nd4,Qd2,f5,c3,Nb5,exf5,Qxf5,Bf3,b6,b4,Re8+,Ne2,Bxf2+,Kxf2,Rb8,Nd4,Nxd4,cxd4,Rf8,Nc3,Bb7,Rh3,Bxf3,Rxf3,Qxh5,Rxf8+,Rxf8+,Kg1,Qg4,Rf1', 'Qxd4+,Rf2,Rxf2,Qxf2,Qxc3', 'https://lichess.org/training/TOV6Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TOvFr', 'Rapid', 'Tigerle', 1831, 'Lja20', 1855, 'd4,d5,c4,e6,Nc3,Nf6,e3,Bd6,c5,Be7,Bd2,O-O,Bd3,b6,b4,a5,a3,axb4,axb4,Rxa1,Qxa1,bxc5,bxc5,Nbd7,f4,Ng4,Nf3,Bh4+,Nxh4,Qxh4+,g3,Qh3,Bf1,Qh6,h4,Ngf6,Be2,Ne4,Nxe4,dxe4,Kf2,e5,Qb1,exd4,exd4,Re8,Be3,Nf6', 'f5,Ng4+,Bxg4', 'https://lichess.org/training/TOvFr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tOvgN', 'Rapid', 'ZelimirGR', 2065, 'shsvtslv', 2047, 'd4,d5,Nf3,c5,c3,Nc6,e3,Bg4,Be2,e6,O-O,cxd4,cxd4,Nf6,Bd2,Bd6,Nc3,a6,h3,Bf5,Nh4,Be4,Nxe4,Nxe4,Nf3,O-O,Bd3,Nxd2,Qxd2,f6,a3,Na5,Qe2,e5,dxe5,fxe5,Nd2,e4,Bc2,Rc8,Nb3,Nc4,Rab1,Be5,Nd4,Qf6,Bb3,Nb6,Qg4,Bxd4,exd4,Qxd4,Rfd1,Qxf2+,Kh2,Rcd8,Qxe4,Kh8,Qe7,Qf4+,Kh1,Rd6', 'Rf1,Qxf1+,Rxf1', 'https://lichess.org/training/tOvgN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tOvnM', 'Rapid', 'ngoshady-karpov', 1960, 'pawnster101', 2036, 'e4,c5,Nf3,e6,Nc3,a6,d4,cxd4,Nxd4,b5,Bd3,Bb7,O-O,d6,a4,b4,Na2,d5,e5,Bc5,Qg4,g6,Bg5,Qc7,Rfe1,Ne7,Bf6,Rg8,Nb3,h5,Qf4,Nd7,Nxc5,Qxc5,Bg5,a5,c3,b3,Nc1,Ba6,Bxa6,Rxa6,Nxb3,Qb6,Nd4,Qxb2,Rab1,Qxc3,Rec1,Qa3,Nb5,Qd3,Nc7+,Kf8,Bh6+,Rg7,Rb6,Rxb6,Bxg7+,Kxg7,Ne8+,Kg8,Qh6,Nf5', 'Nf6+,Nxf6,Rc8+,Ne8,Rxe8#', 'https://lichess.org/training/tOvnM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('toWQz', 'Classical', 'miguelzin88', 1627, 'guessworkceo', 1616, 'e4,d6,d4,e6,f4,Ne7,c4,g6,e5,d5,cxd5,Nxd5,Nf3,a6,Bc4,c6,a4,b6,O-O,Bb7,Qc2,h6,Ne1,Bg7,Nd3,Nd7,Nd2,Ne3,Qb3,Nxf1,Bxe6,Nxd2', 'Bxf7+,Kf8,Bxd2', 'https://lichess.org/training/toWQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tOXAN', 'Rapid', 'Paxili', 2010, 'sergei197', 2163, 'd4,Nf6,Nc3,d5,e4,dxe4,f3,exf3,gxf3,Nd5,Nxd5,Qxd5,Bd3,e5,Qe2,Qxd4,c3,Qd6,Be3,Nc6,O-O-O,Qe6,Kb1,Bd6,h4,f5,Nh3,f4,Bf2,h6,Rhg1,Qe7,Bg6+,Kd8,Qf1,Qf6,h5,Bf5+,Bxf5,Qxf5+,Ka1,Rg8,Qb5,Qxh3', 'Qxb7,Rb8,Qxc6', 'https://lichess.org/training/tOXAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('toxgf', 'Rapid', 'Stevieboy1', 1978, 'fardinmanda', 1825, 'd4,c6,c4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,h3,h5,Be3,O-O,Bd3,a6,a4,Nbd7,O-O,Re8,e5,dxe5,dxe5,Nh7,Bf4,e6,Ne4,b6,Qe2,Bb7,Nd6,Qb8,Nxe8,Qxe8,Be4,Nc5,Bc2,Nf8,b4,Ncd7,Be4,Rb8,a5,c5,axb6,Bxe4,Qxe4,cxb4,Rxa6', 'Nc5,Qd4,Nxa6', 'https://lichess.org/training/toxgf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TOxr4', 'Rapid', 'Grigors', 1660, 'magnusliren2435', 1663, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,Ng5,Nh6,Qh5,Qe7,Nf3,Nb4,Bb3,Be6,Bxh6,Bxb3,axb3,Nxc2+,Kd2,Nxa1,Bxg7,Nxb3+,Kd1,Rg8,Qxh7,O-O-O,Nc3,Bd4,Nd5,Qe6,Bf6,c6', 'Ne7+,Kb8,Nxg8', 'https://lichess.org/training/TOxr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ToZbG', 'Rapid', 'paijan2019', 1780, 'Luka10000', 1752, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,b4,Nxb4,c3,Na6,d4,Bd6,dxe5,Bc5,Bc4,O-O,Bg5,c6,Nbd2,Nc7,e6,dxe6,Ne5,f6,Bh6,fxe5,Qg4,Rf7,Nf3,Ng6,Rad1,Qe7,Bg5,Qe8', 'Rd8,Qxd8,Bxd8', 'https://lichess.org/training/ToZbG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tP2jU', 'Rapid', 'chessplaya1999', 1965, 'aibek_765', 2107, 'd4,d5,Bf4,Bf5,c4,e6,Nc3,Nf6,Qb3,b6,e3,Bd6,Bg3,Bxg3,hxg3,c6,cxd5,exd5,Rc1,O-O,Nf3,Qd6,Be2,Nbd7,Bd1,Rfe8,Ne2,c5,Qa3,Ne4,Ba4,Rac8,Bxd7,Qxd7,dxc5,Nxc5,O-O,Nd3,Rxc8,Rxc8,Ned4,Be4,Ng5,Bg6,Nh3,h6,Nf4,Nxf4,gxf4,Be4,f3,Bd3,Rd1,Bg6,Qb3,Rc4,Qb5,Qe7,Kf2,Rc5,Qb3,f6,Ne2', 'Bc2,Qxd5+,Rxd5', 'https://lichess.org/training/tP2jU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tp2u8', 'Blitz', 'VGVGVGVGVGVGVG', 1935, 'Anthon20', 1886, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Bg3,Nc6,Nbd2,b6,c3,Bb7,Bd3,Qd7,h4,Bxg3,fxg3,Ne7,Qc2,c5,dxc5,bxc5,Nb3,c4,Nc5,Qc6,Nxb7,Qxb7,Be2,Rb8,Rb1,Ne4,Nd2,Nxg3,Rf1,Nxf1,Bxf1,Qc7,e4,Qg3+,Kd1,Qxh4,exd5,exd5,Nf3,Qe4,Qa4+,Kf8,Qxa7,Qxb1+,Ke2,Qxb2+,Ke3,Re8,Ne5,Nf5+,Kf4,Rxe5,Kxe5,f6+,Ke6,Nd6,Qe7+,Kg8', 'Qd8+,Ne8,Qxe8#', 'https://lichess.org/training/Tp2u8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TP3Gy', 'Rapid', 'andrewtsai', 1708, 'Bukz', 1702, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nf3,Be7,Be2,O-O,O-O,b5,a3,Bb7,Nd2,d5,exd5,Nxd5,Nxd5,Bxd5,Bf3,Bxf3,Qxf3,Nd7,Rfe1,Re8,Qg3,Bh4,Qh3,Rc8,Nf3,Bf6,c3,Nc5,Rad1,Qe7,Bxc5,Qxc5,Rd7,Rcd8,Red1,Qc6,Rxd8,Bxd8,Nxe5,Qe4,Nf3,Qe2,Qd7,h6,h3,Bb6,Rd2,Bxf2+', 'Kh2,Qe6,Qxe6,Rxe6,Rxf2', 'https://lichess.org/training/TP3Gy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tP3L8', 'Rapid', 'FungiMingus', 1687, 'maikkel', 1620, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nxc6,bxc6,c4,e6,Be2,Nf6,Nc3,Be7,O-O,O-O,Kh1,a5,f4,Ba6,e5,dxe5,fxe5,Nd7,Bf4,Bg5', 'Bxg5,Qxg5,Qxd7', 'https://lichess.org/training/tP3L8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tp3qu', 'Classical', 'Intelligence64', 1917, 'mark190', 1994, 'd4,f5,Nc3,Nf6,e4,fxe4,Bg5,g6,Bxf6,exf6,Nxe4,d5,Ng3,Bd7,Nf3,Qe7+,Be2,Bh6,O-O,Nc6,Re1,O-O-O,a4,Qb4,c3,Qxb2,Qd3,Qb6,Reb1,Qa5,Rb5,Ne5,Nxe5', 'Bxb5,Qxb5,Qxb5,axb5,fxe5', 'https://lichess.org/training/Tp3qu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TP4iJ', 'Rapid', 'Ademola', 2360, 'Robertmau', 2188, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,a3,Nge7,e3,d3,Bxd3,Bg4,Be2,Qxd1+,Bxd1,O-O-O,Nbd2,Ng6,e6,Bxe6,Ng5,Bd6,Nxe6,fxe6,Ne4,Nce5,Be2,Rhf8,O-O,h5,Bxh5,Rh8,Nxd6+,cxd6,Be2,Rh4,Bd2,Rdh8,h3,Kd7,b3,Nf7,f4,e5,Bg4+,Kc6,f5,Ne7,f6,gxf6,Rxf6,Ng5,Bb4,Ne4,Rf7,Ng8,Be6,Ngf6,Rf1,R4h6,a4,b6,Rd1,a5,Bd5+,Nxd5', 'cxd5#', 'https://lichess.org/training/TP4iJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tp86t', 'Blitz', 'pocholito1', 1699, 'chrizo', 1666, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,O-O,Bc5,c3,Nf5,b4,Bb6,a4,a5,bxa5,Bxa5,Ba3,Bb6,d3,Nxd5,Ne4,Be6,Nbd2,Qh4,Nc5,Nf4,Nf3,Qh6,Bxe6,Nxe6,Nxb7,Nf4,Qb3,Ne2+,Kh1,Neg3+,Kg1', 'Ne2+,Kh1,Nfg3+,fxg3,Nxg3#', 'https://lichess.org/training/Tp86t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TPbB5', 'Rapid', 'mahmoud_lbx2000', 1687, 'smrkashefi', 1656, 'e4,e5,Nf3,d6,Bc4,Nc6,Nc3,Bg4,h3,Bh5,O-O,Na5,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/TPbB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tPBer', 'Rapid', 'fenix730', 1849, 'SadPeanut', 1831, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nxe5,d4,Bb6,dxe5,Qh4,g3,Qe7,f4,Qc5,Qe2,Ba5,Be3', 'Bxc3+,Kf2,Bd4,Rd1,Bxe3+', 'https://lichess.org/training/tPBer');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tPBRk', 'Rapid', 'Kondiedo', 1949, 'Clarodepoal', 1765, 'e4,e6,c3,d5,exd5,exd5,Nf3,Nf6,d3,Be7,Be2,O-O,O-O,Nc6,Re1,Re8,Bg5,h6,Bh4,Bg4,Nbd2,Qd6,Qb3,Na5,Qa4,Qb6,Bxf6,Bxf6,Qxg4,Qxb2,Qb4,Qxb4,cxb4,Bxa1,bxa5,Bc3,Rc1', 'Bxd2,Nxd2,Rxe2', 'https://lichess.org/training/tPBRk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tpDJ5', 'Blitz', 'Morrra', 2275, 'FM Yeknafar', 2382, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,dxc4,e3,c5,Bxc4,cxd4,Nxd4,Nc6,O-O,Nxd4,exd4,Be7,d5,exd5,Nxd5,Nxd5,Qxd5,O-O,Bf4,Bf6,Rab1,Qb6,Be3,Qc7,Rfc1,Be6,Qe4,Bxc4,Rxc4,Qa5,a3,Rfe8,Qc2,a6,Rc5,Qd8,Rd1,Qe7,Rc7,Qe5,h3,Qxb2,Qc4,Rf8,Bc5,b5,Qg4,Be5,Rb7,Rfd8,Re1,Qc3,Bb4,Qc6,Re7,Bf6,R7e2,h6,Bd2,Rd4,Qg3,Kh7,Bc3,Rd6,Bb4,Rd5,Qf3,Rad8,g3,Qd7,Qe4+,Qf5,Qg2,Qd3,Kh2,Qc4,Qf3,Rd3', 'Qf5+,g6,Qxf6', 'https://lichess.org/training/tpDJ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TpdXM', 'Blitz', 'neuri', 1922, 'Sasikranx', 1868, 'd4,d5,e3,Nf6,Bd3,c6,c3,e6,f4,Nbd7,Nd2,Be7,Ngf3,O-O,Ne5,Nxe5,fxe5,Ne4,Nxe4,dxe4,Bxe4,f6,exf6,Bxf6,O-O,e5,Qh5,g6,Qe2,Be6,Bd2,Qd7,Rf2,Bh4,g3,Bg4,Rxf8+,Rxf8,Qc4+,Be6,Qc5,Qf7,Qxe5,Qf2+,Kh1,Bh3,gxh4', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/TpdXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tPeDB', 'Bullet', 'Le_charpentier', 1809, 'peppefabi', 1804, 'd4,Nf6,Bf4,d5,e3,c6,Nf3,g6,c4,Bg7,h3,O-O,Bd3,dxc4,Bxc4,b5,Bd3,e6,O-O,Bb7,Qb3,a6,a4,Nbd7,axb5,cxb5,Nc3,Bxf3,gxf3,Nb6,Rfc1,Nfd5,Bg3,h5,Be4,Rc8,Rxa6,Nxc3,bxc3,h4,Bh2,Nd5,Bd3,b4,c4,Nc7,Ra4,Nd5,Re1,Qg5+,Kh1,Nf6,Rxb4,Nh5,Rb5,Qe7,c5,Nf6,Rb1,Nd5,Bc4,Qf6,Bxd5,exd5,Qxd5,Rfd8,Qe4,Re8,Qf4,Qe6,Rb6,Qc4,Kg2,Ra8,c6,Ra2,c7,Qe2,Qxh4,Qxe3,Rb8,Bxd4,Rxe8+,Kg7,c8=Q,Rxf2+,Qxf2', 'Qxf2+,Kh1,Qxf3#', 'https://lichess.org/training/tPeDB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tPEyO', 'Bullet', 'ariyoseun', 1937, 'Heinzi99', 1702, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Ng3,e4,Ng1,h5,Nxh5,Ne5,Ng3,Bg4,N1e2,Qd7,h3,Rxh3,gxh3', 'Nf3+,Kf1,Bxh3+,Rxh3,Qxh3#', 'https://lichess.org/training/tPEyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TpFON', 'Classical', 'ukrkchess', 1640, 'KONURALP81', 1632, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,Bg4,h3,Bxf3,Qxf3,Nd4', 'Nf6+,gxf6,Qxd5', 'https://lichess.org/training/TpFON');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tph1I', 'Classical', 'yigal29', 1659, 'RezaZahra', 1615, 'd4,d5,Bf4,e6,Nf3,c5,Nbd2,Bd6,Ne5,c4,e3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/Tph1I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tpi3A', 'Classical', 'igrok51', 1650, 'DeepakTripathi', 1746, 'e4,c5,c4,Nc6,Nc3,e6,d3,d6,f4,Be7,Nf3,Bd7,Be3,Qb6,Qd2,O-O-O,b3,Nb4,d4,Kb8,a3,Nc6,Rb1,cxd4,Nxd4,Nxd4,Bxd4,Qa6,Bxg7,Bf6,Bxh8,Bxh8,c5,Qxa3,cxd6,Qb4,e5,Rc8,Na4', 'Qe4+,Be2,Qxb1+', 'https://lichess.org/training/Tpi3A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TPJie', 'Rapid', 'sickranchez', 1905, 'serefekici', 2052, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,a4,Bb7,d3,O-O,Nc3,b4,Nd5,d6,a5,Nd4,Nxe7+,Qxe7,Nxd4,exd4,Re1,c5,Bg5,h6,Bh4,g5,e5,dxe5,Bg3,Nd7,Qh5,Kg7,h4,f6,Re2,Qd6,Rae1,Bd5,hxg5,hxg5,Ba4,Rh8,Qg4,Be6,Qf3,Bd5,Qf5,Qe6', 'Bxd7,Qxf5,Bxf5', 'https://lichess.org/training/TPJie');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TPJnq', 'Rapid', 'victorolosaurus', 1742, 'kojetin', 1731, 'e4,c6,f4,e5,Nf3,exf4,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Qe2+,Be7,O-O,Qb6+,Kh1,Qxb5,d3,Bc6,Nc3,Qb4,a3,Qd6,Bd2,Nd7,Nd4,g5,Qg4,Ne5,Qh3,Bd7,Nf5,Qf6,Nxd5,Bxf5', 'Nxf6+,Bxf6,Qxf5', 'https://lichess.org/training/TPJnq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tpngv', 'Blitz', 'alfir', 1804, 'Alex2frnd', 1779, 'd4,d5,Bf4,Nf6,Nf3,Nc6,e3,e6,Bd3,Bd6,Ne5,O-O,Nd2,a6,c3,Ne7,h4,Ng6,Bg3,c5,f4,Kh8,Ndf3,Ng4,Nxg4,e5,Ngxe5,cxd4,cxd4,Bb4+,Nd2,Nxe5,fxe5,f5,Bf4,Be6,Qe2,Rf7,O-O,Be7,g3,g5,hxg5,Bxg5,Qh5,Rg7,Kf2,Bxf4,exf4,Qa5,Nf3,Qb4,Rab1,Rag8,Rg1,Bd7,a3,Qb3,Ng5,Qxd3,Rh1,Qxd4+,Kg2,Qd2+,Kh3,Be8,Qh4,Qe3,Rbe1,Qb3,Rh2,d4,Ree2,d3,Rd2,Qc4,Kg2,Bc6+,Kg1,Qc1+,Kf2,Qxd2+,Kf1,Qd1+,Kf2,d2', 'Qxh7+,Rxh7,Rxh7#', 'https://lichess.org/training/Tpngv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TpnM8', 'Rapid', 'widow_queen', 1827, 'Yamber', 1930, 'd4,g6,e3,Bg7,Bd3,f5,f4,Nf6,Nd2,d5,c4,e6,b3,O-O,Ba3,Re8,Ngf3,h6,Ne5,Kh7,h3,Ne4,Ndf3,Bxe5,fxe5,Ng3,Rh2,Ne4,g4,c6,Qc2', 'Qa5+,b4,Qxa3', 'https://lichess.org/training/TpnM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TPNzg', 'Blitz', 'saiedva4', 1590, 'Guerberoff', 1592, 'e4,c5,Bc4,Nc6,Nf3,e5,O-O,d6,h3,Nge7,d3,h6,Re1,Ng6,c3,Be7,Nbd2,O-O,Nf1,Kh8,Ng3,f5,exf5,Bxf5,d4,Bh4,Nxf5,Rxf5,Nxh4,Qxh4,dxe5,Qxf2+,Kh1,Nh4,Bf1,Raf8,Be3,Qg3,exd6', 'Rxf1+,Rxf1,Qxg2#', 'https://lichess.org/training/TPNzg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tppV2', 'Rapid', 'rsafarboy', 1665, 'BillSabab', 1702, 'e4,c5,Nf3,g6,Bc4,Nc6,d3,Bg7,O-O,d6,h3,Nf6,c3,O-O,Nh2,Nd7,f4,Nb6,a3,Nxc4,dxc4,Na5,Qe2,b6,Nd2,Ba6,Nhf3,Rb8,Qd3,b5,b3,bxc4,bxc4,Nb3,Nxb3,Rxb3,Bd2,Qa5,Rfc1,Rxa3,Rxa3,Qxa3,e5,Qb3,exd6,exd6,Qxd6,Bxc4,Ne5,Be6,Qxc5,a5,Nc6,Qb2,Be3,a4,Qb4,Qe2,Bd4,Qd2,Ra1,Qxf4', 'Ne7+,Kh8,Bxg7+,Kxg7,Qxf4', 'https://lichess.org/training/tppV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TPR8y', 'Rapid', 'tiguerte', 1722, 'Hamzek', 1661, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e6,Bxc4,Bb4,Nf3,Nxe4,Qc2,Nxc3,bxc3,Ba5,O-O,O-O,Ba3,Re8,Bd3,g6,Ne5,Nc6,Nxc6,bxc6,Bc1,Bb7,Bh6,Qf6,Rab1,Rab8,f4,Qh4,Bg5,Qg4,h3,Qg3,Rf3,Qxf3,gxf3,c5,Kf2,cxd4,cxd4,Bd5,h4,Bb6,Ke3,Rbc8,h5,c5,hxg6', 'cxd4+,Ke2,Rxc2+', 'https://lichess.org/training/TPR8y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tpRrM', 'Rapid', 'sai_deepesh_mr', 1772, 'ayush2405', 1777, 'e4,e5,Nc3,Nf6,f4,exf4,d4,d6,Bxf4,Nc6,Nf3,Be7,Bd3,h6,O-O,Bg4,h3,Bxf3,Qxf3,Nxd4,Qe3,Ne6,Bh2,d5,exd5', 'Bc5,Kh1,Bxe3', 'https://lichess.org/training/tpRrM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TPRRR', 'Classical', 'shivrajpingale24', 1952, 'Rook17', 1805, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,O-O,O-O,Kh1,b5,a3,Bb7,Qe2,Nbd7,f4,Nc5,e5,Ne8,f5,dxe5,fxe6,Nxb3,exf7+,Rxf7,Nxb3,Nf6,Be3,Qc7,Rad1,Raf8,Bf2,Qc6,Bg3,Nh5,Bxe5,Qxg2+,Qxg2', 'Rxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/TPRRR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tPRwU', 'Rapid', 'Incommodum', 1725, 'mishu223', 1773, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Nd5,cxd4,Bb4+,Bd2,d6,Bc4,Bf5,Bxd5,Bxd2+,Nbxd2,Nb4,Qa4+,c6,Bxc6+,Nxc6,d5,O-O,dxc6,bxc6,Qxc6,Rc8,Qxd6,Qa5,O-O,Bg4,Nb3,Qb5,Nfd4,Qd3,Nc5,Qd2,e6,Rfd8,exf7+,Kh8,Qa6,Qxd4,Rac1,Rxc5,Rxc5,Qxc5,Re1,Qf8,Qxa7,Rd7,Re8', 'Rd1+,Re1,Rxe1#', 'https://lichess.org/training/tPRwU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TPt1E', 'Rapid', 'kareemmansour', 1832, 'DePReSifMeRT', 1811, 'e4,c6,d4,d5,e5,Bf5,Nf3,h6,h3,e6,Bd3,Bxd3,Qxd3,c5,c3,cxd4,cxd4,Bb4+,Nc3,Qa5,Bd2,Nc6,O-O,Rc8,a3,Bxc3,Bxc3,Qa4,Rab1,Nge7,Nh2,O-O,f4,Nf5,g4,Nfxd4,b3,Nxb3,Bb4,Nxb4,axb4,Na1,Rxa1,Qxb4,Rxa7,Rc3,Rxb7', 'Qc5+,Kg2,Rxd3', 'https://lichess.org/training/TPt1E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tpTtN', 'Rapid', 'zuldjafar', 2086, 'SMdeSade', 2104, 'b3,g6,Bb2,Nf6,g4,Bg7,g5,Nh5,Bxg7,Nxg7,h4,h6,gxh6,Rxh6,Nc3,d5,Bg2,c6,d4,Bf5,Qd2,Rh8,f3,Nd7,e4,dxe4,fxe4,Bg4,Qf4,Bh5,Nf3,Ne6,Qe3,Nf6,Bh3,Ng4,Bxg4,Bxg4,d5,cxd5,exd5,Ng7,O-O-O,Nf5,Qf4,Bxf3,Qxf3,Qd6,Nb5,Qc5,c4,a6,Nc3,Qe3+,Qxe3,Nxe3,Rde1,Nf5,Re4,O-O-O,Na4,Ng3,Rhe1,Nxe4,Rxe4,Rde8,Kc2,Kc7,b4,e6,Nc3,exd5,Nxd5+,Kd6,Rd4,Ke5,Kd3,f5,a4,g5,hxg5,Rh3+,Ne3,f4', 'Re4+,Kd6,Rxe8', 'https://lichess.org/training/tpTtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TPUNo', 'Blitz', 'Mangoes124', 1559, 'Jcg466', 1519, 'e4,e6,d4,d5,Nd2,Bb4,c3,Be7,Ngf3,Nf6,e5,Nfd7,Bd3,c5,Nf1,Qb6,Qc2,Nc6,Be3,c4,Be2,Nf8,Ng3,Ng6,Bg5,Bd7,Bxe7,Ncxe7,Ng5,Bc6,f4,Nxf4,Nh3,Nxg2+,Kf2,Nh4,Rhg1,Nef5,Nxf5,Nxf5,Bg4,Nh6,Bh5,O-O,Qd2,Nf5,Nf4,g6,Bg4,a5,Bxf5,exf5,Rae1,Rae8,Rg2,a4,Reg1,Kg7,h4,Rxe5,h5,Re4,hxg6,fxg6,Nh5+,Kg8,Rxg6+,hxg6,Rxg6+,Kf7,Rg7+,Ke6', 'Qh6+,Rf6,Qxf6#', 'https://lichess.org/training/TPUNo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TpUYH', 'Classical', 'Wisd96', 1646, 'Alpacone', 1733, 'd4,Nf6,c4,e6,d5,exd5,cxd5,c5,Nc3,d6,e4,g6,Nf3,Bg7,h3,O-O,b3,Re8,Bd3,Bd7,Bb2,Na6,O-O,Nb4,Re1,Nxd3,Qxd3,a6,e5,Nh5,Nd1,dxe5,Nxe5,Nf4,Qf3,Nxh3+,gxh3,Qg5+,Kf1,Bxe5,Bxe5,Rxe5,Rxe5,Qxe5,Rc1,Qh2,Ke1,Re8+,Ne3,Bxh3,Rd1,Qg2,Qf4,Bg4,Rc1,Bh5,Kd2,Qe4,Rc4,Qxf4,Rxf4,Kg7,d6,Re6,Nc4,Re2+,Kc3,Kf8', 'd7,Ke7,Rxf7+', 'https://lichess.org/training/TpUYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TPVFq', 'Rapid', 'GunawanSudrajat', 1884, 'Winchesterr', 1821, 'e4,c5,d3,e6,Nf3,Nc6,Be2,d5,exd5,exd5,O-O,Be7,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,b3,O-O,Bb2,c5,Bf3,Bb7,c4,Rb8,Be5,Bd6,Bb2,dxc4,Bxb7,Rxb7,Qf3,Rb6,Rd1,Qc7,Bxf6', 'Bxh2+,Kf1,Rxf6', 'https://lichess.org/training/TPVFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TpwxP', 'Rapid', 'elbierhoff09', 1668, 'Likesi', 1662, 'e4,d5,exd5,Qxd5,Nc3,Qd4,Nf3,Qf4,d3,Qg4,Be2,Nc6,O-O,Be6,Ne5,Qf5,Nxc6,bxc6,Bf3,O-O-O,Bxc6,Bd7,Bxd7+,Qxd7,Re1,e5,Rxe5,Bd6,Rd5,Nf6,Ra5,Ng4,Rxa7,Bxh2+,Kf1,Be5,Ke1,Bxc3+,bxc3,Rhe8+,Be3,Nxe3,fxe3,Rxe3+,Kd2', 'Rxd3+,cxd3,Qxd3+', 'https://lichess.org/training/TpwxP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TpX9M', 'Rapid', 'sudhakar_singh', 1807, 'mcfish1', 1801, 'e4,c5,Nf3,Nc6,Bc4,d6,d3,a6,Nc3,Bg4,Bf4,Nd4,h3,Bxf3,gxf3,Nf6,Be3,e5,Bxd4,cxd4,Nd5,Nxd5,Bxd5,Qb6,Qc1,Be7,Rg1,O-O,b3,Kh8,Qd2,f5,O-O-O,fxe4,fxe4,Rf3,Qe2,Raf8,Rdf1,Bh4,Rg2,a5,Rfg1,g5,Rf1,a4,Qd2,axb3,Bxb3,Rxh3,Rxg5,Bxg5,Qxg5,Rhf3,Rg1,Qc7', 'Qg8+,Rxg8,Rxg8#', 'https://lichess.org/training/TpX9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TPyEm', 'Classical', 'arikw-s', 1911, 'etiennevantheemsche', 1832, 'd4,Nf6,Nc3,g6,Nf3,Bg7,Bg5,O-O,e3,d6,Bd3,Nbd7,h4,h6,Bf4,Nh5,Qe2,Nxf4,exf4,Nf6,h5,Nxh5,O-O-O,Bg4,Qe4,Bf5,Qe3,Bxd3,Rxh5,gxh5,Qxd3,c6,Rh1,f5,Rxh5,e6,Ne2,Qe8,Rh4,Qg6,g4,Bf6,g5,hxg5,fxg5,Bxg5+,Nf4,Bxf4+,Rxf4,Qh6,Qe3,Rae8,Rg4+,Kh7', 'Rh4,Qxh4,Nxh4', 'https://lichess.org/training/TPyEm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tpzWl', 'Rapid', 'Holwa', 1702, 'Samagace69', 1632, 'd4,e6,c4,d5,Nf3,Nf6,Bg5,Be7,Bxf6,Bxf6,cxd5,exd5,e3,O-O,Bd3,c6,h4,Qb6,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Bf5,Qe2,Na6,a3,Nc7,g4,Be4,f3,Bxb1,Rxb1,Nb5,Kf2,Rfe8,Qd3,g6,Nxf7,Kxf7,h5,Nxd4,Qxg6+,Ke6,g5,Nf5', 'Qxf6+,Kd7,Qxf5+', 'https://lichess.org/training/tpzWl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tPZYr', 'Blitz', 'IM chargemax23', 2635, 'RoteKampfflieger', 2543, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,dxe4,Nxe4,Be7,Bxf6,gxf6,Nf3,f5,Ned2,b6,c3,Bb7,Qa4+,Nd7,Bb5,a6,Bxd7+,Qxd7,Qxd7+,Kxd7,O-O-O,Bf6,Rhe1,Rhg8,g3,Rad8,Ne5+,Ke7,f4,h5,Ndf3,h4,Rg1,hxg3,hxg3,Rg7,Nd2,Rdg8,Nf1,Bh4,Rd3,Be4,Re3,f6,Nd3,Kd6,Nf2,Kd5,Kd2,c5,dxc5,bxc5,Ke2,e5,fxe5,fxe5,Nxe4,fxe4,Kf2,Rf7+,Kg2,Bg5,Re2,Rf3,Nd2,Rxg3+,Kxg3,Be3+,Kh3,Bxg1,Nxe4,Kc4,Rd2,Be3', 'Nd6#', 'https://lichess.org/training/tPZYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TQ39a', 'Rapid', 'mbpaul198', 1751, 'Oppenheime_075', 1765, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,d4,a6,Ba4,Nf6,Bc2,Be7,O-O,b5,Qd3,Rb8,b4,O-O,Be3,Rb7,a4,exd4,cxd4,Nxb4,Qe2,Nxc2,Qxc2,Re8,axb5,Bxb5,Nc3,Bxf1,Kxf1,Qa8,Qd3,a5,d5,Reb8,g3,Rb3,Qc4,R8b4,Qd3,c6,Nd2,Rb2,Na4,Rxd2,Bxd2,Rxe4,dxc6,Qxc6,Nc3,Rc4,Rxa5,Ng4,Rh5,g6,Rh3,f5,f3,Ne5,Nd5,Rc1+,Bxc1,Qxc1+,Ke2,Nxd3,Kxd3,Kf7,Rxh7+,Ke6,Nxe7,Qf1+,Ke3,d5,Nxg6,d4+,Kxd4,Qxf3,Nf4+,Kf6,Nd5+,Kg6,Rh4,Kg5,Nf4,Qe4+,Kc5,Qe7+,Kd4,Qe4+,Kc5,Qe3+,Kd5,Qd2+,Kc4,Qa2+,Kd4,Qa4+,Kd3,Qb5+,Kd4,Qb2+,Kd3,Kf6,Rh6+,Kg5,Rh5+,Kg4,Rh4+,Kf3,Rh3,Qb3+,Kd4,Qb1,Rh5,Qc1,Rxf5', 'Qe3+,Kd5,Qe4+,Kd6,Qxf5', 'https://lichess.org/training/TQ39a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tq3ou', 'Rapid', 'AjiBond', 2210, 'tierri', 1897, 'd4,Nf6,Bg5,e6,e4,h6,Bxf6,Qxf6,Nf3,b6,Bd3,Bb7,O-O,Nc6,e5,Qd8,Nc3,Nb4,Be4,Bxe4,Nxe4,c5,dxc5,Bxc5,Nd6+,Bxd6,Qxd6,Nd5,c4,Ne7,Rfd1,Rc8,b3,Rc7,Nd4,O-O,Nb5,Nf5', 'Qxc7,Qxc7,Nxc7', 'https://lichess.org/training/tq3ou');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tq3tN', 'Rapid', 'chessdrunkard', 1692, 'bacilii51', 1650, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,Nc6,Be3,Bg4,Qf2,e6,Nf3,Bb4,Bd2,Bxc3,Bxc3,Ne4,Qe3,Nxc3,Qxc3,Bxf3,gxf3,Qxd4,Qxd4,Nxd4,O-O-O,Nxf3,Bg2,Ne5,Bxb7,Rb8,Be4,O-O,Rhe1,g6,h4,Nc4,b3,Nd6,Bd3,Rb4,h5,Rfb8,hxg6,hxg6,Rh1,Nb5,Rd2,Nc3,Kb2,Nd5,Rdh2,Kg7,Rh7+,Kf6,Rf1+,Rf4,Rg1,e5,Kc1,Nb4,Bc4,Ke7,Re1,e4,Rg1,Rf6,Rg4,Nxa2+,Kb2,Nb4,Rxe4+,Kd6,Bxf7,g5,Bh5,Re6,Rd4+,Ke5,Rhd7,Nc6,R4d5+,Kf6,Rxc7,Ne7,Rdc5,a6,Bg4,Re5', 'Rxe5,Kxe5,Rxe7+', 'https://lichess.org/training/tq3tN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TQ3y6', 'Rapid', 'IVANIV', 1827, 'kam49', 1870, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,c5,Qd5,Nf6,Bg5,Be7,Qb3,Nxe4,Be3,Nc6,Bd3,Nf6,Ng5,O-O,c4,h6,Ne4,Nb4,Nxf6+,Bxf6,Be4,Re8,f3,Qe7,Nd2,Rb8,a3,Nc6,Bxc6,Qxe3+,Qxe3,Rxe3+,Kf2,Bd4,Bd5,Rxa3+,Kg3,Rxa1,Rxa1,a6,Ra2,Be6,Ne4,Bxd5,cxd5,Rd8,b3,f5,Nd2,Kf7,Nc4,Ke7,Re2+,Kd7,Re6,Kc7,Re7+,Rd7,Re6,b5,Nd2,a5,Kf4,Rf7,h3,Be5+,Ke3,Kd7,f4,Bd4+,Kd3,Re7,Rg6,Re3+,Kc2,a4,bxa4,bxa4,Kd1,a3,Nc4,Bf6', 'Nxe3,a2,Nc2,a1=R+,Nxa1', 'https://lichess.org/training/TQ3y6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tq57A', 'Rapid', 'kojiro963', 1615, 'Attila65', 1666, 'e4,e5,Bc4,f6,d3,Bc5,f4,d6,f5,Nc6', 'Qh5+,g6,fxg6', 'https://lichess.org/training/tq57A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tq5PD', 'Rapid', 'Carlseng', 2370, 'mensob', 2228, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,d3,b5,Bb3,O-O,Nc3,d6,a3,Bg4,h3,Bh5,Be3,Kh8,Nd5,Qd7,Nxf6,Bxf6,Nxe5,Bxe5,Qxh5,Bxb2,Ra2,Bf6,Bd5,Rab8,c4,Ne5,cxb5,axb5,d4,Nc6,Rd1,Ne7,Bb3,g6,Qf3,Bg7,Bg5,f6,Bf4,c6,e5,fxe5,dxe5,d5,Qe3,Qe6,Bh2,Ra8,g4,Ra6,f4,Rfa8,Qc5,h5,gxh5,gxh5,Rd3,Nf5,Bd1,Bf8,Qc1,b4,a4,c5,Bf3,Nd4,Bxh5,Rxa4,Rxa4,Rxa4,Rg3,c4,Qd1,Bc5,Qxa4,Ne2+,Kg2,Nxf4+,Kh1,Nxh5,Qa8+,Kh7,Qb7+,Kh6,Rg4,Qf5,Bf4+,Nxf4,Qg7+,Kh5', 'Qh8+,Qh7,Qxh7#', 'https://lichess.org/training/Tq5PD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TQ6tI', 'Rapid', 'lanundarat', 1894, 'pierredams', 1979, 'e4,d6,d4,c6,f4,g6,Nf3,Bg7,Be3,Nf6,Nbd2,b5,c4,a6,cxb5,cxb5,a4,b4,Bc4,Bb7,d5,Nbd7,h3,Rc8,b3,Nc5,e5,Nfe4,O-O,Ng3,Re1,Nf5,Bxc5,Rxc5,Rc1,O-O,g4,Nh6,Ne4,Rc8,Ng3,a5,Qd3,Kh8,g5,Ng8,h4,f6,e6,f5,Re2,Qb6+,Kg2,Ba6,h5,Bxc4,bxc4,Nf6,h6,Ng4,hxg7+,Kxg7,Rh1,Rh8,Nxf5+,gxf5,Qxf5,Rcf8,Qxg4,Qc5,f5,b3,g6,h6,Qh4,Rf6,Ne1,b2,Nd3,Qa3,Rxb2,Qxd3,Rb7,Qd2+,Kg1,Qd1+,Kg2,Qd2+,Kg1,Re8,Qxh6+', 'Qxh6,Rxh6,Kxh6', 'https://lichess.org/training/TQ6tI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqaf1', 'Rapid', 'vingammer', 1697, 'sreza64', 1750, 'e4,e6,Bc4,b6,d3,Bb7,Nc3,f5,exf5,Bxg2,fxe6,Bxh1,Qh5+,g6,Qe5,Nf6', 'exd7+,Kxd7,Qe6#', 'https://lichess.org/training/tqaf1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TQaYo', 'Rapid', 'morales1963', 2032, 'Koquena', 2013, 'd4,d6,c4,g6,Nc3,Bg7,e4,Nc6,Be3,Nf6,h3,O-O,Be2,Nd7,Nf3,e5,Qd2,a6,O-O,f5,d5,Ne7,Bh6,f4,Bxg7,Kxg7,b4,h6,Nh2,Nf6,c5,h5,Rfc1,g5,cxd6,cxd6,Na4,Bd7,Nc3,Rh8,b5,g4,hxg4,hxg4,bxa6,bxa6,g3,Ng6,Rab1,f3,Nxf3,gxf3,Bxf3,Rb8,Rxb8,Qxb8,Rb1,Qa7,Rb4,Qc5,Qb2,Ng4,Rb7,Nf6,Na4,Qc8,Be2,Kg8', 'Rb8,Qxb8,Qxb8+', 'https://lichess.org/training/TQaYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TqDlN', 'Classical', 'PremAyarpallam', 1616, 'Andrey23619', 1644, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,a6,Bg5,f6,exf6,Nxf6,Ne5,c5,Nxd5,exd5,Qe2,Be7,Bxf6,gxf6', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/TqDlN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tQgvQ', 'Rapid', 'susax', 1643, 'Del_Avisto', 1625, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,Bf4,Ne7,Bd3,Bxd3,Qxd3,Nd5,Bd2,Be7,c4,Nf6,Qb3,b6,O-O,O-O,Rad1,Nbd7,Ne5,Nxe5,dxe5,Ng4,Bf4,Qc7,h3,Nxe5,Rfe1,Bd6,Qc3,f6,Ne4,Rad8,b4,c5,bxc5,bxc5,Nxd6,Rxd6,Bxe5,fxe5,Qxe5,Rxd1,Qxc7,Rxe1+,Kh2,Rxf2,Qxc5,Rff1,Qc8+,Kf7,Qc7+,Kg6,Qg3+,Kf5,Qd3+,Re4,c5,Rc1,Qf3+,Ke5,Qh5+,Kd4,Qxh7,Rxc5,Qxg7+,Kd3,Qxa7,Rcc4,Qd7+,Kc3,g4,Kc2,g5,Rc3,Qh7,Kd3,g6,Rc2+,Kg3,Re3+,Kg4,Rc4+,Kh5,Re5+,Kh6,Rh4+,Kg7,Rd4,Kf7', 'Rd7+,Kg8,Rxh7', 'https://lichess.org/training/tQgvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqgXB', 'Blitz', 'IanyNepo', 1827, 'erm39', 1846, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,d5,Bd2,O-O,Nf3,c5,cxd5,Nxd5,e4,Nxc3,bxc3,Ba3,Bc4,a6,Qb3,b5,Be2,c4,Qxa3,Nc6,O-O,f5,exf5,exf5,Bf4,h6,Bd6,Rf6,Bc5,g5,Ne5,Qc7,Bf3,Bb7,Rfe1,g4,Bxc6,Bxc6,Nxc6,Qxc6,Rad1,f4,d5,Qd7,Re7,Qf5,d6,f3,g3,Qh5,Kh1,Qh3,Rg1,Rf5,d7', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/tqgXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TqH2P', 'Blitz', 'CRR1697', 2025, 'ShilpaRajuP', 2002, 'd4,Nf6,Bf4,c5,d5,Qb6,Nc3,d6,e4,a6,Nf3,g6,a4,Bg7,a5,Qc7,h3,Nbd7,Be2,O-O,O-O,Re8,Ra4,b5,axb6,Nxb6,Ra3,Bb7,e5,Nfd7,exd6,exd6,Re1,Nf6,Bg5,Ne4,Nxe4,Rxe4,c3,Rae8,Bf1,Rxe1,Nxe1,h6,Bh4,Nxd5,Bxa6,Nf4,Bf1,d5,Bg3,Be5,Nf3,Bd6,Bxf4,Bxf4,Bb5,Bc6,Bd3,d4,cxd4,Bxf3,Qxf3', 'Re1+,Bf1,Bh2+,Kh1,Rxf1#', 'https://lichess.org/training/TqH2P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqIP3', 'Blitz', 'fortuneman', 1542, 'Jack1102', 1504, 'e4,e6,f4,c5,Nf3,Nc6,b3,Nge7,Bb2,d5,e5,Ng6,g3,b6,d3,Bb7,Bg2,Be7,c4,d4,O-O,O-O,h4,Re8,Ng5,h6,Qh5,hxg5,hxg5,Na5,Be4,Bxe4,dxe4,Nc6,Rf2,Nh8', 'Rh2,Ng6,Qh7+,Kf8,Qh8+,Nxh8,Rxh8#', 'https://lichess.org/training/tqIP3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TqJM9', 'Blitz', 'Danlokgarzon1', 2087, 'AngelBarragan', 2107, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,f4,Nc6,h3,Qb6,Be3,e5,Nf5,Qxb2,Nxg7,Qxc3,Rf3,Qxc4,fxe5,Nxe5,Rxf6,Kxg7,Qxd6,Qxe4,Bd4,Re8,Raf1,Bf5,g4,Rad8,R1xf5,Rxd6,Rxf7+,Kh6', 'g5+,Kh5,Rxh7#', 'https://lichess.org/training/TqJM9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqK2V', 'Rapid', 'Jaunuolis', 2158, 'virgus', 2221, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Nd7,O-O,Ne7,Nbd2,h6,c3,c5,Nh4,Bh7,f4,cxd4,cxd4,Nc6,Nhf3,Be7,a3,O-O,Re1,Qb6,Nf1,Rac8,Bd3,Bxd3,Qxd3,Na5,b4,Nc4,Ne3,Qc6,Nd1,b5,Nb2,Nxb2,Bxb2,Qc4,Qxc4,Rxc4,Rec1,Rfc8,Rxc4,dxc4,Rc1,Nb6,Kf2,Nd5,Bc3,Nxf4,Nd2,Nd3+,Ke3,Nxc1,Ne4,Bg5+,Kf3,Nd3,g3,Nc1,Nd6,Rd8,Nxb5,Nb3,Nxa7,Nxd4+,Ke4,Ne2,Be1,Rd3,Nb5,Rb3,Bf2,c3,Nd4,Rxa3,Nxe2,Rb3,Nd4,Ra3,Kd3,Bd2,Kc4,Ra8,Kb3,Rc8,Nc2,Rb8,Kc4,Rc8+,Kd3,Rd8+,Ke2,g5,Bd4,Kg7,Kd3,Rc8,Ke4,Kg6,g4,h5,h3,hxg4,hxg4,Rc6,b5,Rc8,b6,Rb8,Kd3,Rb7,Kc4,Rb8,Kb5,Bc1,Kc6,Ba3,Kc7,Rh8,b7,Be7,b8=Q,Rxb8,Kxb8,f6,exf6,Bxf6,Be3,Be5+,Kb7,Kf6,Kc6,Kf7,Kc5,Bf6,Kc4,Be5,Bxg5,Kg6,Be3,Bf6,Kd3,Bg5,Bd4,Bf4,Ne3,e5,Bxc3,Bxe3', 'Kxe3,Kg5,Kf3,e4+,Kg3', 'https://lichess.org/training/tqK2V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqKKf', 'Blitz', 'Bobbi999', 1817, 'josue2020', 1684, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,b6,Bb5+,Bd7,Bd3,Nc6,e5,Ng8,O-O,e6,d5,exd5,Nxd5,Nge7,Nxe7,Nxe7,exd6,cxd6,c3,O-O,Be3,Qc7,Bd4,Nf5,Bxf5,Bxf5,Bxg7,Kxg7,Nd4,Qc5,g4,Be4,Qd2,d5,f5,Rae8,f6+,Kh8,Qh6,Rg8,g5,a6,Rf4,Qf8', 'Qxh7+,Kxh7,Rh4+,Qh6,Rxh6#', 'https://lichess.org/training/tqKKf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tQKQ3', 'Rapid', 'Street____Fighter', 1928, 'zoen', 1878, 'd4,e6,Bf4,c5,e3,Qb6,Nc3,a6,a3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/tQKQ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqL83', 'Rapid', 'cohgunnard', 1905, 'berkgu', 1834, 'e4,c5,f4,Nc6,Nf3,g6,Bc4,Nf6,d3,Bg7,O-O,Qc7,Nc3,d6,e5,dxe5,fxe5,Nxe5,Nb5,Nxf3+,Qxf3,Qb6,Bf4,O-O,Rae1,Bg4,Qf2,a6,Nc7,Rac8,Rxe7,Qxb2,h3,Bf5,Be5,Qa3,g4,Bxd3,cxd3,Ne8,Bxf7+,Kh8,Bxg7+,Nxg7,Qe2,c4,Bxc4,Qc5+,Kh1', 'Rxf1+,Qxf1,Qxe7', 'https://lichess.org/training/tqL83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TQlI4', 'Rapid', 'mouseeatlasagna', 2031, 'JaKoNE', 2033, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Nb3,d6,Bb5,a6,Bxc6+,bxc6,Bf4,Nf6,Qd2,O-O,h4,h5,f3,Qc7,O-O-O,a5,a4,Rb8,Kb1,Qb7,Qe2,Be6,e5,Bf5,Ka2,Nd5,Nxd5,cxd5,exd6,Qc6,dxe7,Qxa4+,Kb1,Rfe8,Bxb8,Qxb3,Be5,Bxe5,Qxe5', 'Qxc2+,Ka1,Qa4#', 'https://lichess.org/training/TQlI4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tQltT', 'Rapid', 'Stratatactician', 2058, 'ARYAPOOR', 1976, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,a3,O-O,O-O,Nd4,c3,Nxf3+,Qxf3,c6,Be3,Bxe3,fxe3,d5,exd5,cxd5,Ba2,Be6,d4,exd4,exd4,Qb6,Qe2,Ne4,a4,Rae8,Na3,a6,Rab1,Qc6,Nc2,Bf5,Ne3,Be6,Rbe1,Qxa4,Bb1,f5,Nd1,Bd7,Bd3,Ng3,Qf3,Nxf1,Rxe8,Rxe8,Bxf1,Bc6,Ne3,Qa2,Nxf5,Qxb2,Bd3,Qc1+,Bf1,Qg5,Bd3,Rf8,h4,Qf6,g4,g6,g5,Qe6,Nh6+,Kg7,Qg3,Re8,Kg2,Qe1,Qc7+,Re7,Qb8,Qd2+,Kg1,Re1+,Bf1,Qe2', 'Qg8#', 'https://lichess.org/training/tQltT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqmNH', 'Blitz', 'GAFPA', 1658, 'Paren_s_zavoda', 1780, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Nc6,Be2,e5,dxe5,Bf5,O-O,Ndb4,Na3,Nd5,Nc4,Bc5,Re1,O-O,Ne3,Nxe3,Bxe3,Bxe3,fxe3,Re8,e4,Bxe4,Bd3,Bxd3,cxd3,Qd5,d4,Rad8,Qe2,Nxd4,Nxd4,Qxd4+,Kh1,Rd5,Rad1,Qc5,e6,Rxe6,Rxd5,Rxe2', 'Rd8+,Qf8,Rxf8+,Kxf8,Rxe2', 'https://lichess.org/training/tqmNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqmyA', 'Rapid', 'iamlearningthechess', 1728, 'Mr_Aleksandr_K', 1719, 'c4,e5,Nc3,d6,g3,c6,Bg2,Be6,b3,f5,e3,Nf6,Nge2,Nbd7,O-O,g5,f4,g4,fxe5,Nxe5,d4,Nf3+,Kh1,Qd7,d5,cxd5,cxd5,Bf7,Nf4,O-O-O,Bb2,Rg8,Rc1,Kb8,Bxf3,gxf3,Qxf3,h5,Ne6,Rc8,Ne2,Nxd5,Rxc8+,Qxc8,Nxf8,Qxf8,Qxf5', 'Nxe3,Qxf7,Nxf1,Qxf8+,Rxf8', 'https://lichess.org/training/tqmyA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tQNEB', 'Rapid', 'ostore666', 1857, 'championworld', 1906, 'd4,d5,c4,e5,Nc3,dxc4,d5,Nf6,e4,Bg4,f3,Bd7,Bxc4,c6,Nge2,cxd5,Nxd5,Nxd5,Bxd5,Bc6,O-O,Bxd5,exd5,Bc5+,Kh1,O-O,Nc3,Nd7,Ne4,Bd4,f4,Nf6,fxe5,Bxe5,Bg5,Qxd5', 'Nxf6+,Bxf6,Qxd5', 'https://lichess.org/training/tQNEB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TQNfu', 'Rapid', 'HappyHazard', 1705, 'chwilliams1', 1735, 'd4,d5,c4,Bf5,Nc3,e6,Nf3,Bb4,Bd2,Bxc3,bxc3,Nf6,cxd5,Qxd5,Qa4+,Nbd7,Ne5,O-O,e3,a6,Bc4,Qxg2,O-O-O,c6,Nxd7,Nxd7,Qb3,b5,Be2,c5,Rdf1,c4,Qd1,Nb6,f3,Qh3,e4,Bg6,Rfg1,Qh4,Bg5,Qh3', 'Rg3,Qxg3,hxg3', 'https://lichess.org/training/TQNfu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tqojn', 'Blitz', 'Windivaim', 2646, 'GM TheNorival', 2604, 'f4,d5,g3,g6,Bg2,Bg7,Nf3,Nf6,O-O,O-O,d3,c5,Nbd2,d4,Nb3,Qc7,Bd2,Be6,c3,dxc3,Bxc3,Bxb3,axb3,Nc6,Ne5,Nxe5,Bxe5,Qd7,Qd2,Nd5,Bxg7,Kxg7,d4,Nf6,Rfd1,Rfd8,d5,Qb5,Qd3,Qxd3,Rxd3,a6,e4,Rac8,e5,Ne8,Ra4,Rc7,b4,cxb4,Rxb4,f6,e6,Nd6,h4,f5,Rb6,h5,Rdb3,Kf6,Kf2,Rdc8,Bf3,Rc2+,Be2,R8c7,Ke3,Rc1,Bd3,Rg1,Kf3,Rd1,Ke2,Rh1,Ke3,Rh2,Ra3,Rc5,Kd4,Rc7,Ke3,Rg2,Kf3,Rg1,Kf2,Rd1,Ke3,Rcc1,Rc3,Re1+,Kf2,Rxc3,bxc3,Rc1,c4,a5,Ke3,Nxc4+,Bxc4,Rxc4,Rxb7,Re4+,Kd3,a4,Ra7,Rb4,Kc3,Rb3+,Kd4,a3,Ra8,Kg7,d6,a2,Rxa2,exd6,Re2,Kf8,e7+,Ke8,Kd5,Rxg3,Ke6,d5,Kxd5,Ra3,Re6,Ra5+,Kd4,Ra4+', 'Ke5,Rc4,Kf6', 'https://lichess.org/training/Tqojn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqopU', 'Rapid', 'DanSem2011', 1748, 'online_a', 1753, 'c4,d5,cxd5,Qxd5,Nc3,Qc6,Nf3,e6,g3,Bc5,e3,a5,d4,Bb6,Bg2,Qd7,O-O,c6,b3,Ba7,Bb2,b5,a3,Nf6,Ne5,Qc7,Qf3,Bb7,Ne4,Nxe4,Qxe4,f5,Qf3,h5,Ng6,Rh6,Ne5,g5,h3,g4,hxg4,hxg4,Qf4,Qh7,Qg5,Nd7,Nxd7,Kxd7,d5,Rh8,dxc6+,Bxc6,Bxh8', 'Rh1+,Bxh1,Qxh1#', 'https://lichess.org/training/tqopU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TqPCv', 'Rapid', 'JGarbarek', 1632, 'vovka80', 1619, 'e4,e5,Nf3,d6,Bc4,Be7,d4,a6,d5,b5,Bd3,Nd7,b4,Nb6,O-O,Nf6,Be3,Nbxd5,exd5,Nxd5,Be4,Bb7,Bxd5,c6,Be4,d5,Bf5,Bxb4,c3,Bd6,Qc2,g6,Bh3,e4,Ng5,h6,Nxf7,Kxf7,f3,c5,fxe4+,Kg7,exd5,Re8,Qd2,b4,cxb4,cxb4,Bxh6+,Kh7,Bg5,Qb6+,Be3,Rxe3,Kh1,Bxh2,Rf7+,Kh6,Kxh2,Qd6+,Kh1,Qe5,Rxb7,Rf8,Na3', 'Qxa1+,Kh2,Qe5+', 'https://lichess.org/training/TqPCv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TqPGU', 'Rapid', 'Juusal', 1682, 'erasyl20092505', 1631, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Bb4,Nxc3,Nf6,e5,Ne4,Ne2,d5,exd6,Qxd6,O-O,O-O', 'Nxe4,Qxd1,Rxd1', 'https://lichess.org/training/TqPGU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tQpV8', 'Classical', 'KMRR', 1656, 'Shallweplay', 1650, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,O-O,O-O,Qe2,d6,d4,exd4,cxd4,Nxd4,Nxd4,Bxd4,Nc3,Bg4,Qd3,c5,Be3,a6,Ba4,b5,Bd1,Be5,f4,Bxc3,bxc3,Bxd1,Raxd1,Ng4,h3,Nxe3,Qxe3,c4,Qd4,Qa5,Ra1,Rfd8,a3,Qa4,f5,f6,Qe3,Re8,h4,d5,Qg3,Rxe4,h5,h6,Qf3,Qc2,Qd1,Qxc3', 'Qxd5+,Kh7,Qxe4', 'https://lichess.org/training/tQpV8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tqr0I', 'Rapid', 'TomoTama', 1838, 'PavelMordvinov', 1826, 'd4,d5,Nf3,Bg4,e3,Nc6,c4,e6,Be2,Nf6,Nc3,Bb4,Qc2,Bxf3,Bxf3,dxc4,Bxc6+,bxc6,O-O,O-O,Qa4,Qd6,e4,a5', 'e5,Qxd4,exf6', 'https://lichess.org/training/Tqr0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqrd0', 'Rapid', 'Bonfas', 1742, 'TomBooombadil', 1710, 'b4,e5,Bb2,f6,b5,d5,Nf3,Bc5,d4,Bb6,dxe5,fxe5,Bxe5,Nf6,Nc3,Nbd7,Nxd5,Nxe5,Nxe5,Nxd5,e4,Nf6,Qxd8+,Kxd8,Nf7+,Ke7,Nxh8,Nxe4,Bd3,Bxf2+,Ke2,Bg4+,Kf1,Bd4,Re1', 'Rf8+,Nf7,Rxf7#', 'https://lichess.org/training/tqrd0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqS8g', 'Rapid', 'Ukraina84', 1931, 'Josiah_Chess', 1796, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,c3,Ne7,Bd3,O-O,O-O,Ng6,h3,Re8,Re1,Be6,Bg5,Qd7,Nbd2,Nc6,Nf1,Nce7,Qc2,c6,Bxe7,Rxe7,Bxg6,hxg6,Ne5,Qc7,Ng3,Rae8,Re2,c5,Rae1,cxd4,cxd4,Qxc2,Rxc2,Bf5,Nxf5,gxf5,Rcc1,f6,Nd3,Rxe1+,Rxe1,Rxe1+,Nxe1,Bb4,Nc2,Ba5,Kf1,Kf7,Ke2,Ke6,h4,g6,f4,a6,Kd3,Bb6,b4,Bc7,Ke3,b5,a3,Bb6,Ne1,a5,Nd3,axb4,axb4,Kd6,Nc5,Bd8,g3,Bb6,Kd3,Kc6,Ne6,Kd6,Nf8,Ke7', 'Nxg6+,Kf7,h5', 'https://lichess.org/training/tqS8g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TQSCT', 'Blitz', 'wakice', 1654, 'TAPAC-ko', 1642, 'e4,d5,Bb5+,c6,Ba4,dxe4,Qe2,Qd4,Bb3,Nf6,Nc3,Bg4,f3,exf3,Nxf3,Bxf3,Qxf3,e6,d3,Bb4,Be3,Bxc3+,bxc3,Qxc3+,Ke2,Nbd7,Qf4,Nd5,Qf3,Nxe3,Qxe3,Qe5,Rhf1,Qxe3+,Kxe3,Nc5,Rab1,Nxb3,Rxb3,b6,Rc3,c5,d4,cxd4+,Kxd4,Rd8+,Ke5,O-O,Rc7,Rd5+,Ke4,a5,g4,Rfd8,Rb1,f5+,gxf5,exf5+,Ke3,b5,Ra7,b4,Rg1,g6,h4,Re5+,Kf4,Re4+,Kg5,Rd2,h5,Rg4+,Rxg4,fxg4,hxg6,hxg6,Kxg6,g3', 'Ra8+,Rd8,Rxd8#', 'https://lichess.org/training/TQSCT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TqsrE', 'Blitz', 'Trisher', 1773, 'JamesSonMorales', 1744, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,Ng5,O-O,d3,h6,Nxf7,Rxf7,Bxf7+,Kxf7,Be3,Nd4,O-O,d6,Nd5,Nxd5,exd5,Bf5,c3,Nb5,a4,c6,axb5,cxd5,Bxc5,dxc5,f4,e4,dxe4,Bxe4,b3,Qf6,c4,d4,Qh5+,Bg6,Qd5+,Qe6,Qxb7+,Kf6,Qxa8,Qe3+,Kh1,Be4,Qd8+,Kg6,Qd6+,Kh5,Qe5+,Kg4,h3+', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/TqsrE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tQsur', 'Classical', 'Sohowdoiplay', 1646, 'serageldin', 1675, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bd3,Ngf6,Nxf6+,Nxf6,Nf3,Bg4,Be3,e6,c3,Be7,O-O,O-O,Bg5,Qc7,Re1,Rfd8,Qe2,c5,Bxf6,Bxf6,Qe3,Bxf3,Qxf3,cxd4,Qe4,g6,c4,Bg7,b3,a5,a4,Qb6,Rab1,Rac8,Red1,Rc5,f4,Rh5,Be2,Rf5,Bg4,Rc5,Bf3,Rc7,Rd3,Qc5,Qe2,Re8,g3,e5,Re1,f5,fxe5,Rxe5,Qf2,Rce7,Rxe5,Qxe5,Kf1,f4,Bd5+,Kh8,Rf3,d3,Rxd3,fxg3,Rxg3,Qa1+,Kg2,Qd1,Rf3', 'Re2,Qxe2,Qxe2+', 'https://lichess.org/training/tQsur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TqsvG', 'Rapid', 'hosein76', 2043, 'kiroje', 2135, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nb3,Bb4,f3,d5,exd5,Nxd5,Bd2,Bxc3,bxc3,Be6,Bd3,Qb6,Qe2,Nf4,Qf2,Qxf2+,Kxf2,Nxd3+,cxd3,Bxb3,axb3,O-O-O,Ke2,Rd7,Be3,b6,Rhd1,Rhd8,f4,exf4,Bxf4,Re7+,Kf2,Rde8,Rd2,Na5,Rb2,Kb7,d4,Re4,Bg3,R8e6,d5,Rf6+,Kg1,Re3,Rc1,Kc8,d6,Kd7,Rd1,Rxc3', 'Be5,Rc6,Bxf6', 'https://lichess.org/training/TqsvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TQTri', 'Rapid', 'Time_is_running', 2268, 'Davidaa_WoW', 2043, 'e4,e6,d4,d5,Nc3,Bb4,exd5,exd5,Bd3,Nf6,Ne2,O-O,Bg5,Be6,Qd2,Nbd7,O-O-O,c6,Kb1,a5,h3,a4,g4,a3,b3,Qa5,f4,c5,f5,cxd4,fxe6,fxe6,Bxf6,Nxf6,Bxh7+,Nxh7,Qxd4,Rac8,Na4,b5,c3,Bd6,Qb6,Bc7,Qxa5,Bxa5,b4,Bxb4,cxb4,bxa4,Nd4,e5,Nf5,Rb8,Rxd5,Rxb4+,Ka1,e4,Re1,Nf6,Re5,Rfb8,Ne7+,Kf7,Nc6,R4b5,Re7+,Kf8,Ra7,R8b6,Nd4,Rb4,Nc2,Rc4,Nxa3,Rc3,Rxa4,Rxh3,Nc4,Rc6,Ne5,Rc2,g5,Nh7,Raxe4,Nxg5,Rf4+,Kg8,Nd3,Rxd3,Rg1,Ne6,Re4,Kf7,Rf1+,Ke7,Rfe1,Rd6,Rg4,Kd7,Kb1,Rdc6,Rg6,R2c5,Ka1,Rc1+,Rxc1,Rxc1+,Kb2,Rf1,a4,Rf2+,Kb3,Rf6,Rg4,Nc5+,Kb4,Ne6,Kb5,Nc7+,Kb4,g6,a5,Na6+,Kb5,Kc7,Rh4,Nb8,Rh7+,Kc8,Rg7,Rf5+,Kb6,Nd7+,Kc6,Rxa5', 'Rg8+,Nf8,Rxf8#', 'https://lichess.org/training/TQTri');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TqUjB', 'Blitz', 'theresidentsheep', 2074, 'Sduarez', 2025, 'd4,e5,dxe5,Nc6,e4,Nxe5,f4,Ng6,Be3,d6,Nf3,Bg4,Nc3,c6,Bc4,Nh6,O-O,Be7,Qd2,Bxf3,Rxf3,Ng4,Bd4,O-O,Rd1,Qa5,Qe2,Nf6,e5,dxe5,fxe5,Ng4,Rh3,N4xe5,Qh5,h6,Bb3,Bc5,Bxc5,Qxc5+,Kh1,Qb6,Ne4,Rad8,Rf1,Qd4,Nf6+,Kh8', 'Qxh6+,gxh6,Rxh6+,Kg7,Rh7#', 'https://lichess.org/training/TqUjB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tqw4D', 'Blitz', 'GM Dr-CRO', 2597, 'music_2003', 2402, 'd4,g6,e4,Bg7,c4,c6,Nc3,d5,cxd5,cxd5,Nxd5,Nc6,Be3,e6,Nc3,Nxd4,Nf3,Nxf3+,Qxf3,Ne7,Bb5+,Nc6,Rd1,Qa5,O-O,O-O,Bxc6,bxc6,Rd2,Ba6,Rfd1,Rad8,Bd4,Bxd4,Rxd4,Rxd4,Rxd4,Rd8,Qd1,Rxd4,Qxd4,Qc7,Qd2,Qe5,g3,Kg7,Kg2,c5,f4,Qd4,Qxd4+,cxd4,Nb1,Bb7,Nd2,f5,Kf2,fxe4,Nb3,e3+,Ke2,Ba6+,Kf3,e2,Kf2,d3,Ke1,Kf6,Nc5,Bb5,a4,Bc4,b3,Bd5,a5,Kf5,Nxd3,Bxb3,Kxe2,Bc4,Ke3,Bxd3,Kxd3,Kg4,Ke4', 'Kh3,g4,Kxg4', 'https://lichess.org/training/Tqw4D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TqXhf', 'Classical', 'CristianRoldan', 1743, 'rakshi2980', 1707, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,a6,a3,Nf6,d3,Bc5,h3,d5,exd5,Nxd5,Nbd2,Nf4,O-O,Nxd3,Bxd3,Qxd3,Nxe5,Nxe5,Re1,f6,Qh5+,Kd8,Nb3,Ba7', 'Rd1,Qxd1+,Qxd1+', 'https://lichess.org/training/TqXhf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqXiU', 'Blitz', 'Leo_Mirana81', 2246, 'GM Saltaev', 2497, 'e4,c6,Nf3,d5,Nc3,Bg4,h3,Bxf3,Qxf3,e6,d4,Nd7,exd5,cxd5,Bf4,a6,Bd3,g6,O-O,Bg7,Ne2,Ne7,c3,O-O,Bd6,Re8,Rae1,Nf6,Be5,Nc6,Bg3,e5,dxe5,Nxe5,Bxe5,Rxe5,Nd4,Qe7,Rxe5,Qxe5,Rd1,Re8,g3,Ne4,Bxe4,dxe4,Qe3,Qc5,Kg2,f5,Nc2,Qb5,b3,Qc6,c4,h6,Nb4,Qe6,Nd5,Qe5,Qb6,g5,Qxb7,f4,Re1,e3,fxe3,Qb2+,Kf3,fxe3,Rxe3,Rf8+,Kg4,Qd4+,Kh5,g4,hxg4,Rf1,Ne7+,Kh7,Nf5,Rh1+,Qxh1,Qf6,Qh4', 'Qg6#', 'https://lichess.org/training/tqXiU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tQY8e', 'Bullet', 'akmalkrmv', 1563, 'TheoGiakatis', 1514, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d6,Bg5,O-O,Qd2,c5,Bh6,Bg4,Bxg7,Kxg7,e3,Bxf3,gxf3,Nc6,d5,Ne5,Be2,a6,O-O-O,Rb8,f4,Ned7,h4,h5,e4,Qa5,f5,b5,Rdg1,b4,Nb1,Qxa2,Bxh5,Nxh5,fxg6,fxg6,Qg5,Qxc4+,Kd1,Qd3+,Nd2,Rxf2', 'Qxg6+,Kh8,Qxh5#', 'https://lichess.org/training/tQY8e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqY9R', 'Rapid', 'Rhadamanthiis', 1721, 'Spwrt', 1702, 'Nf3,Nc6,d4,d5,Nc3,Nf6,a3,Bg4,h3,Bh5,Bf4,a6,e3,e6,Be2,Bd6,Bg5,h6,Bxf6,Qxf6,g4,Bg6,h4,O-O,g5,hxg5,hxg5,Qe7,Qd2,f6,gxf6,Rxf6,Ng5,Raf8,Bg4,Rxf2', 'Bxe6+,Qxe6,Nxe6', 'https://lichess.org/training/tqY9R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tQywf', 'Blitz', 'tony75000', 1837, 'viking9262', 1802, 'e4,Nf6,Nc3,Nc6,d4,a6,e5,Ng8,Nf3,d6,d5,Nxe5,Nxe5,dxe5,Bc4,g6,Qe2,Bg7,Bg5,Nf6,O-O-O,O-O,f4,exf4,Bxf4,b5,Bb3,Bb7,Rhe1,b4,Na4,Nxd5,Bxd5,Bxd5,Qxe7,Qxe7,Rxe7,Bxg2,Rxc7,Rac8,Rxc8,Rxc8,Rd6,Be4,c3,bxc3,bxc3,a5,Ra6,Bxc3,Nxc3,Rxc3+,Kb2,Rc2+,Ka3,h5,Be5,Kh7,h4,g5,hxg5,h4', 'Rh6+,Kg8,Rh8#', 'https://lichess.org/training/tQywf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqZ8x', 'Blitz', 'SER787', 1523, 'vinhoctap', 1539, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,d3,Nc6,g3,Nd4,Bf4,Qe6,Be3,Bxe2,Ngxe2', 'Nf3+,Kf1,Qh3#', 'https://lichess.org/training/tqZ8x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tQzjX', 'Rapid', 'Ohadsim', 1918, 'majstor2012', 1899, 'e4,e5,Nf3,f5,Bc4,Nf6,Nxe5,d5,exd5,Bd6,d4,O-O,O-O,Bxe5,dxe5,Ng4,Nc3,f4,e6,Qh4,h3,f3,hxg4,Qxg4,g3', 'Qh3,Qxf3,Rxf3', 'https://lichess.org/training/tQzjX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tqZz3', 'Rapid', 'ESTERGOM', 1839, 'blunderdonkey', 1754, 'e4,e6,c3,d5,e5,c5,d4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Ne2,f6,exf6,Nxf6,O-O,cxd4,Nxd4,Bd6,Nxe6,Qd7,Re1,Kf7,Ng5+,Kf8,Ne6+,Kf7,Bg5,h5,Qf3,d4,Qf5,Rae8,Nd2', 'Rxe6,Rxe6,Qxe6,Qxe6+,Kxe6', 'https://lichess.org/training/tqZz3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TR0cB', 'Rapid', 'Shtyikov_Vladimir', 1930, 'reiner10', 1899, 'c4,g6,Nc3,Bg7,g3,Nf6,Bg2,c6,e4,e6,Nge2,O-O,O-O,d5,cxd5,cxd5,e5,Nfd7,d4,Nc6,b3,a6,f4,b5,a4,bxa4,Nxa4,Rb8,Ba3,Re8,Bd6,Rb7,Nc5,Rb6,Nc3,Bf8,Bxf8,Rxf8,N3a4,Rb5,Rf2,Nxc5,Nxc5,Na5,Bf1,Rb4,Rfa2,Nc6,Ra4,Qb6,Rxb4,Nxb4,Ra4,Rd8,Qd2,Nc6,Bxa6,Bxa6,Rxa6,Qb5,Qc3,Rc8,Qa1,Nxd4,Qxd4,Qxc5,Qxc5,Rxc5,Ra8+,Kg7,Rb8,h5,b4,Rc4,b5,h4,b6,h3,Rd8,Rc1+,Kf2,Rb1,Kf3,Rb2,Rd6,Rxh2,Kg4,Rh1,Kh4,f5,Rd7+,Kh6,b7,Rb1,Kxh3,g5,Re7,Rb6,Kg2,gxf4', 'Rxe6+,Rxe6,b8=Q', 'https://lichess.org/training/TR0cB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tR1WU', 'Classical', 'just_a_nerd', 1782, 'C_goemaat_PALPT', 1776, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,Nxe5,Bc5,d4,Bb6,Be3,Bb7,Nc3,Nf6,Nc4,d6,e5,dxe5,Nxb6,cxb6,dxe5,Nd5,Bd4,Nxc3,Bxc3,Qxd1+,Rxd1,O-O,O-O,h6,b4,b5,Bd4,Rad8,Rfe1,Rfe8,h3,Bc8,f4,Bf5,c3,f6,a3,Kf7,g4,Bc2,Rd2,Bb3,e6+,Bxe6,f5,Bxf5', 'Rxe8,Rxe8,gxf5', 'https://lichess.org/training/tR1WU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tr2Gp', 'Rapid', 'kustosz', 1827, 'PashkaPetrovich', 1770, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qd6,Nb5,Qe5+,Qe2,Qxe2+,Nxe2,Na6,d4,Bd7,Nf4,Nb4,Nc7+,Kd8,Nxa8,Nc2+,Kd1,Nxa1,Nd5,e6,Nc3,Bb4,Bf4,Bxc3,bxc3,Ba4+,Kd2,Nc2,Bd3,Na3,Nc7,a6,Bd6,Nf6,Nxe6+,fxe6,Bxa3,Bc6,f3,b5,c4,Kc7,Re1,Re8,d5,exd5,Rxe8,Bxe8,cxb5,Bxb5,Bxb5,axb5,Bf8,g6,Bg7,Nd7,Kc3,Kc6,Kb4,Nb6,g4,Nc4,f4,Ne3,h3,Nc2+,Kc3,Ne3,Kd3,Nc4,f5,Kd6,f6,Ke6,g5,Nd6,Bf8,Nf7,h4,h5,Kd4,Ne5,Kc5,Nf3', 'Kxb5,Nxh4,a4', 'https://lichess.org/training/Tr2Gp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tR3Gw', 'Bullet', 'moaneszlal', 1768, 'nor1000', 1855, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bf4,Bd6,Bxd6,Qxd6,Nc3,O-O,Be2,c6,O-O,Bf5,h3,Nbd7,Nh4,Bg6,Nxg6,hxg6,Qd2,Rae8,Rfe1,Ne4,Nxe4,dxe4,c4,f5,a3,Nf6,Qg5,Qxd4,Qxg6,Qxb2,c5,Nd5,Bf1,Nf4,Bc4+,Kh8,Qg5,Qe5', 'Qh4+,Nh5,Qxh5#', 'https://lichess.org/training/tR3Gw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tr4az', 'Rapid', 'Kinmark1', 1794, 'roryG1997', 1605, 'd4,d5,c4,c5,cxd5,cxd4,Nf3,Qxd5,g3,Nf6,Bg2,e5,O-O,Be7,b3,Be6,Bb2,Bf5,Nfd2,Qe6', 'Bxb7,O-O,Bxa8', 'https://lichess.org/training/tr4az');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TR5mt', 'Rapid', 'pokemoji', 1684, 'chesstoto69', 1699, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,Nxc6,Bxc6+,bxc6,d3,Bc5,f4,Qe7,Qe2,Bg4,Qxe5,Qxe5+,fxe5,Nd7,Bf4,O-O,Nc3,Rfe8,Nf3,Bd6,O-O,Bxe5,Bxe5,Nxe5,Rae1,Nxf3+,gxf3,Rxe1,Rxe1,Bxf3,Re7,g6,b4,Kg7,b5,Kf6,Rc7,cxb5,Nxb5,a6,Nd4,Bd5,Rd7,Be6,Rd6', 'Ke5,Rd8,Rxd8', 'https://lichess.org/training/TR5mt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tr6eG', 'Rapid', 'GeneUKR', 1912, 'PUIG-98', 1982, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d5,exd5,Nxd5,O-O,O-O,h3,Nb6,Bb3,Nxd4,Nxd4,Qxd4,Qc2,c6,Nf3,Qf6,Qe2,Bd7,Rad1,Rfe8,Qd3,Rad8,Rfe1,Bf5,Rxe8+,Rxe8,Qc3,Qxc3,bxc3,h6,Nd4,Bg6,f4,Bh5,g4,Bg6,f5,Bh7,Kf2,Kf8,Kf3,f6,Ne6+,Ke7,Nxg7,Rd8,Rxd8,Kxd8,Nh5,Ke7,Ke4,Nd5,Bxd5,cxd5+,Kxd5,Bg8+,Kc5,Bxa2,Nf4,Bb1,Nd5+,Kf7,Kd6,Be4,c4,Bg2,h4,Bh3,Ne3,Kg7,Kc7,a5,Kxb7,a4,c5,a3,c6,a2,c7,a1=Q,c8=Q,Qb2+,Ka8', 'Qa3+,Kb7,Qxe3', 'https://lichess.org/training/tr6eG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tr7Fr', 'Blitz', 'Tactical_Despair', 1536, 'hurryblob', 1547, 'd4,Nf6,c4,c6,e3,d5,Nc3,g6,cxd5,Nxd5,Nxd5,Qxd5,Bd3,Bg7,h4,Nd7,h5,c5,Ne2,c4,Bc2,Nf6,b3,Bf5,bxc4,Qxc4,Bxf5,gxf5,h6,Bf8,Rb1,Qd5,f3,Rb8,Qa4+,Nd7,Qxa7,e6,Nc3,Qc6,Bd2,Bd6,Nb5,Bg3+,Ke2,Qc4+,Kd1,O-O,Qa3,Ra8,Qe7,Rxa2', 'Qg5+,Kh8,Qg7#', 'https://lichess.org/training/Tr7Fr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TR8hy', 'Rapid', 'ThatOneGuy111', 1894, 'Kristinejoy', 1737, 'd4,d5,Qd3,Nf6,Nf3,Nc6,Bg5,e6,Nc3,Bb4,a3,Ba5,Qb5,a6,Qd3,h6,Bf4,Ne4,b4,Nxc3,Qxc3,Bb6,e3,a5,b5,a4,bxc6', 'Ba5,Qxa5,Rxa5,cxb7,Bxb7', 'https://lichess.org/training/TR8hy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TRAWa', 'Blitz', 'E4C5Resign', 2003, 'anak_KAMPUNG', 2173, 'e4,c5,Nc3,e6,f4,d5,e5,Nh6,Nf3,Nc6,Bb5,Qb6,d3,Nf5,g4,Nd4,Nxd4,cxd4,Bxc6+,bxc6,Ne2,h5,g5,g6,O-O,c5,Kg2,Be7,a3,a5,Rb1,O-O,Bd2,Ba6,b3,Qc6,b4,axb4,axb4,c4,Nxd4,Qc7,b5,Bb7,Be3,cxd3,cxd3,Ra2+,Rf2,Rfa8,Rbb2,Ra1,Qd2,R8a4,Rc2,Qd7,Nc6,Bf8,d4,Rb1,Rc1,Rxb5,Nb8,Qd8,Nc6,Qb6,Nb8,Bb4,Qc2,Ra3,Bd2,Bf8,Nd7,Qd8,Nxf8,Qxf8,Rb1,Ba6,Rxb5,Bxb5,Qb2,Bc4', 'Bb4,Ra2,Bxf8,Rxb2,Rxb2', 'https://lichess.org/training/TRAWa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('trB4d', 'Rapid', 'sergese', 1643, 'IgorGovorushko', 1654, 'd4,Nf6,Nf3,g6,h4,d5,Bf4,Bg7,e3,O-O,c3,Nh5,Bh2,c6,Be2,Qb6,b3,c5,Ne5,Nc6,Bxh5,Nxe5,Bxe5,Bxe5,dxe5,gxh5,Qxh5,Qg6,Qf3,Bg4,Qf4,h5,f3,Bf5,O-O,Kh7,Kf2,Rg8,g3,Bd3,Rg1,f6,exf6,Raf8,Qe5,Rxf6,Qxd5,Rf5,Qxb7,Rgf8,Nd2,Rxf3+,Nxf3,Be4,Qxe7+,Rf7,Qg5,Rxf3+,Ke2,Qf7,Rgf1,Bd3+,Kxd3,Rxf1,Rxf1,Qxf1+,Ke4,Qb1+,Kd5,Qxa2,Qxh5+,Kg7,Kc4,Qa6+,Kxc5', 'Qa5+,Kd4,Qxh5', 'https://lichess.org/training/trB4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TRB4M', 'Rapid', 'Schtorm', 2178, 'Rogalskiy', 1899, 'e4,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,Nc3,e6,Ne4,g6,d4,Bg7,h4,h6,h5,g5,Nh3,b6,cxb6,axb6,Nhxg5,hxg5', 'Bxg5,Qxg5,Nxg5', 'https://lichess.org/training/TRB4M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tRceu', 'Rapid', 'jcos1964', 1812, 'joshua129', 1818, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e6,a3,c5,d5,exd5,exd5,Qa5,Bd2,Bd6,Qe2+,Be7,d6,Qd8,dxe7,Qxe7,Qxe7+,Kxe7,Bxc4,Bf5,Nf3,Nc6,O-O,Rhd8,Rfe1+,Kf8,Be3,b6,Ng5,Ne5,Bb3,h6,Nf3,Nd3,Re2,Re8,Rd1,Ne5,Nxe5,Rxe5,Bc2,Rae8,Bxf5,Rxf5,Kf1,Ng4,h3', 'Nxe3+,Rxe3,Rxe3', 'https://lichess.org/training/tRceu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tRClj', 'Rapid', 'Eric77', 1646, 'Sedrak', 1604, 'd4,d5,c4,e5,cxd5,Qxd5,Nc3,Qd8,dxe5,Qxd1+,Nxd1,Nc6,Nf3,Be6,e3,O-O-O,Nc3,Nb4,Rb1', 'Nc2+,Ke2,Bc4#', 'https://lichess.org/training/tRClj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('trCP7', 'Classical', 'NikitaMorozov', 1674, 'manecasbasilio', 1640, 'd4,d5,Bf4,Nc6,e3,Bf5,Bd3,Bg6,c3,Nf6,Bxg6,hxg6,Nd2,e6,Ngf3,Bd6,Bxd6,Qxd6,Qe2,Ne4,O-O-O,Nxd2,Qxd2,O-O-O,Ng5,Qe7,f4,Kb8,Qf2,f6,Nf3,e5,fxe5,fxe5,Rde1,e4,Nd2,Rdf8,Qg3,Rf5,Qxg6', 'Rg5,Qxg5,Qxg5', 'https://lichess.org/training/trCP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TRdg7', 'Blitz', 'kuzma23', 1967, 'kingsoiler', 1970, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,Bb6,d4,exd4,cxd4,O-O,d5,a6,Ba4,Nb8,Bg5,f6,Be3,Bxe3,fxe3,b5,Bb3,d6,Nd4,Ng6,Nc3,Ne5,h3,Kh8,Qe2,c5,dxc6,Nbxc6,Rad1,Nb4,a3,Nbc6,Bd5,Bb7,Rf5,Qb6,Rh5,Nxd4', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/TRdg7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Trdld', 'Classical', 'CanACan', 1716, 'cnmtl1983', 1686, 'Nf3,b6,c4,e6,d4,Bb4+,Bd2,a5,e4,Bb7,Bd3,h6,O-O,Nf6,e5,Ne4,a3,Be7,Nc3,Nxd2,Qxd2,Bxf3,gxf3,Nc6,d5,Nxe5,Be2,O-O,Kh1,Kh8,f4,Ng6,Rg1,Rg8,Nd1,exd5,Qxd5,Nxf4,Qe4,Nxe2,Qxe2,Bc5,Ne3,Re8,Rg3,Bxe3,fxe3,d5,b3,d4,Rd1,c5,e4,Qc7,Qg4,Rg8,Rf3,f6,Rdf1,Raf8,Qe6,Kh7,Qf5+,g6,Qe6,Qe5', 'Qxe5,fxe5,Rxf8', 'https://lichess.org/training/Trdld');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TrEov', 'Rapid', 'Maoro', 1737, 'Palaniram08', 1803, 'd4,d5,c4,e6,Bf4,Nf6,g3,Nc6,Bg2,Bb4+,Nd2,Nxd4,cxd5,exd5,a3,Bxd2+,Qxd2,Nb3', 'Qe3+,Qe7,Qxb3', 'https://lichess.org/training/TrEov');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TRgRQ', 'Rapid', 'apostrov13', 1678, 'Novato04', 1672, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bd6,Bg5,O-O,Nc3,a6,Ba4,b5,Bb3,Na5,d4,Nxb3,axb3,Re8,dxe5,Bxe5,Qd2,c6,Nxe5,Rxe5,f4,Nxe4,fxe5,Nxg5,O-O,Ne6,Ne4,Bb7,b4,c5,Nxc5,Nxc5,bxc5,Qe7,b4,Qxe5,Qxd7,Rb8,Qxf7+,Kh8,Rae1,Qd4+,Kh1,h6,Re8+,Rxe8,Qxe8+,Kh7,Qe7,Qc4,Re1,Qc3,h4', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/TRgRQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('trHO0', 'Rapid', 'Pradeep18', 1929, 'Bernd_20', 1870, 'd4,Nf6,c4,e6,Nc3,c5,d5,d6,e4,Be7,Nf3,O-O,Bd3,exd5,exd5,Bg4,O-O,Nbd7,h3,Bxf3,Qxf3,Ne5,Qd1,Nxd3,Qxd3,a6,b3,Nd7,Bb2,Bf6,Qc2,Re8,Ne4,Bxb2,Nxd6,Bxa1,Nxe8,Qxe8,Rxa1,Qe5,Rd1,Re8,a4,Nf6,Qd2,Ne4,Qc1,Qf6,Rf1,Nc3,Kh1,Ne4,Qe3,Nd6,Qxc5,Ne4,Qe3,h5,Kg1,Re7,Re1,Qf5,f3,Re5,fxe4,Qg6,Qf3,f5,Rf1,fxe4,Qf8+,Kh7,Qf4,Rg5,Rf2,Rg3,Qf5,Qxf5,Rxf5,Rxb3,Rxh5+,Kg6,Re5,e3,Kf1,Kf6,Re6+,Kf5,Ke2,g6,Rxe3,Rb2+,Kf3,Rb4,g4+,Kf6,Rc3,Ke5,Ke3,Rxa4,h4,Ra1,Rb3,Rc1,Rb4,a5,Ra4,b6,h5,gxh5,gxh5,Rh1,Ra2', 'Rh3+,Kf2,Rh2+,Kg3,Rxa2', 'https://lichess.org/training/trHO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('trISM', 'Blitz', 'FM Keru', 2397, 'asirmatos', 2286, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,Nc6,c4,g6,Be3,Bg7,Qd2,O-O,Nc3,Qa5,Be2,a6,O-O,Be6,Rac1,Rac8,Rfd1,Nd7,Nb3,Qc7,Nd5,Qb8,c5,dxc5,Nxc5,Nxc5,Rxc5,Bxd5,Rxd5,Rfd8,Bb6,Rxd5,Qxd5,Bxb2,Bc4,e6,Qd7,Bf6,Bxe6,fxe6', 'Qxe6+,Kg7,Rd7+', 'https://lichess.org/training/trISM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TRiSp', 'Rapid', 'Anwarsaber', 1684, 'marioben', 1687, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,c4,Ne7,c5,Bxc5,dxc5,O-O,Bd3,Bg4,O-O,c6,Be2,Nf5,Ne5,Bxe2,Qxe2,Re8,Qg4,Rxe5,f4,Ne3,Bxe3,Rxe3,f5,Re4,Qg3,Nd7,Nc3,Re8,Rad1,Nxc5,f6,Ne6,Ne4,Qb6+,Nf2,Qxb2,Rfe1,Qxf6,Ng4,Qf4,Qh3,Ng5,Rxe8+,Rxe8,Qh5,g6,Qh4,h5', 'Nh6+,Kg7,Qxf4', 'https://lichess.org/training/TRiSp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TRjIf', 'Classical', 'Joel616', 2132, 'mroguzhanata', 2012, 'd4,d5,c4,e6,Nf3,Nf6,g3,Be7,Bg2,O-O,O-O,c5,cxd5,Nxd5,Nc3,Nxc3,bxc3,Nc6,e4,b6,d5,Na5,Bf4,exd5,exd5,Bg4,h3,Bxf3,Qxf3,Bd6,Rfe1,Nc4,Qg4,Qc8,Qe2,Bxf4,Qxc4,Bd6,a4,Re8,Qb5,Rxe1+,Rxe1,Rb8,c4,a6,Qc6,Qxc6,dxc6,Kf8,f4,b5,axb5,axb5,cxb5,Rxb5,Ra1,c4,Kf1,c3,Be4,f5,Bc2,Rc5,Ra6,h6,Ke2,g5,fxg5,hxg5,g4,fxg4,hxg4,Rc4,Kd3,Rxg4,Ra8+,Ke7,Ra7+,Kd8', 'Rd7+,Kc8,Rxd6', 'https://lichess.org/training/TRjIf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TrJna', 'Blitz', 'Dr_Ajedrez', 1994, 'rs1825', 1993, 'e4,c5,Nf3,e6,c4,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,Be7,Be3,O-O,Be2,b6,O-O,Bb7,b3,Nbd7,Rc1,Rc8,Qd2,Re8,Rfd1,Ne5,h3,Nc6,f4,Nxd4,Qxd4,d5,exd5,Bc5,Qd3,Bxe3+,Qxe3,exd5,Qd3,Qe7,Nxd5,Nxd5,cxd5,Qxe2,Rxc8,Bxc8,Qd4,h6,d6,Rd8,Rd2,Qe6,Qxb6,Qe1+,Kh2,Qxd2,Qxd8+,Kh7,Qxc8,Qxd6,Qf5+,Kg8,Qc8+,Kh7,Qc2+,Kg8,Qf2,g5,Kg3,h5,Qf3,h4+,Kg4,Qe6+,Kh5', 'Qg6+,Kg4,f5#', 'https://lichess.org/training/TrJna');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TrJS0', 'Blitz', 'maurycy2007', 1621, 'Ismaell', 1547, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,Bg4,d3,h6,h3,Bh5,O-O,Nf6,Be3,Be7,Nd5,Nd4,Nxf6+,Bxf6,Bxd4,exd4,Re1,O-O,Qd2,Bxf3,gxf3,Bg5,Qe2,Qf6,Kh1,Bf4,Rg1,Qh4,Qf1,h5,Qg2,g6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/TrJS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TrKQf', 'Blitz', 'Rbjuniorcxnl', 1662, 'Roogan', 1547, 'd4,f5,c4,Nf6,Nf3,e6,g3,c6,Bg2,d5,cxd5,cxd5,Nc3,Bb4,Qc2,O-O,O-O,Nc6,Bg5,Qd6,a3,Ba5,Bf4,Qd7,Ne5,Nxe5,Bxe5,Bc7,b4,Bxe5,dxe5,Ng4,f4,Ne3,Qd3,Nxf1,Rxf1,a6,Rd1,b5,Nxd5,exd5,Bxd5+,Kh8,Bxa8,Qxd3,Rxd3,Be6,Bb7,Bc4,Re3,Rd8,Kg2,Rd2,e6,Bxe2,e7,Bh5+,Kh3', 'Bg4+,Kh4,Rxh2+,Kg5,Rh5#', 'https://lichess.org/training/TrKQf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TRKqn', 'Classical', 'LucasGoalis1900', 1825, 'Tura999', 1694, 'd4,d5,Bf4,e6,e3,Nf6,Nd2,c5,c3,Nc6,Ngf3,Nh5,Bg3,Nxg3,hxg3,Qc7,Bd3,Bd7,Rxh7,Rxh7,Bxh7,g6,Qc2,O-O-O,O-O-O,e5,dxe5,Bf5,Qb3,Nxe5,Nxe5,Qxe5,Nf3,Qg7,Rh1,Kb8,Rd1,Qxh7,Ne5,Ka8,Rxd5,Rxd5,Qxd5,Qh1+,Kd2,a6,Qd8+,Ka7,Qxf8,Qb1,Qxc5+,Ka8,Qc8+,Ka7,Qc5+,Ka8,Nc4,Qd3+,Ke1,Qb1+,Ke2,Bd3+,Kf3,Be4+,Kf4,Bc6,Nb6+,Kb8,Qd6+,Ka7,Nc8+,Ka8,Qc7,Qe4+,Kg5,Qf5+,Kh4,g5+,Kh5,Qg6+,Kg4', 'f5+,Kh3,Qh6#', 'https://lichess.org/training/TRKqn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('trL55', 'Blitz', 'NM IwantedTotellYouImL', 2026, 'ivan62', 1747, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Nf3,Bg4,Bf4,e6,Nbd2,Bd6,Bxd6,Qxd6,O-O,Rc8,Qe1,O-O,Ne5,Bh5,f4,Bg6,Bxg6,hxg6,Qh4,Qe7,Ndf3,Ne4,Ng5,Nxg5,fxg5,Nxe5,dxe5,Rc4,Rf4,Rfc8,Raf1,Rxf4,Qxf4,Rc4,Qf2,Re4,Qxa7,Rxe5', 'Qb8+,Qf8,Qxe5', 'https://lichess.org/training/trL55');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tRlkf', 'Rapid', 'MRVIAGRA', 1758, 'Zulzaga', 1721, 'e4,e6,d4,d5,e5,Qd7,c3,b6,f4,Ne7,g4,Ba6,Bxa6,Nxa6,Qd3,Nb8,b4,h5,g5,Nf5,h4,a5,b5,a4,Ba3,g6,Bxf8,Kxf8,Na3,Kg7,Ne2,Rc8,Ng3,Qe7,Nc2,c5,bxc6,Nxc6,Nxf5+,exf5,O-O,Nd8,Nb4,Ra5,a3,Ne6,Qf3,Qd7,Rf2,Rc4,Rc2,Rb5,Qf2,Qc7,Rac1,Kh8,Kg2,Kg7,Kg1,Kf8,Kg2,Ke8,Kg1,Nd8,Qf3,Qd7,Rb1,Ke7,Kg2,Ke6,Kg1,Nb7,Rcb2,Na5,Nc2,Nb3,Na1', 'Nd2,Rxb5,Nxf3+', 'https://lichess.org/training/tRlkf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TRppR', 'Classical', 'destructor55', 2026, 'coulube', 2003, 'e4,d5,exd5,Nf6,d4,c6,Nf3,cxd5,c4,e6,Nc3,Bb4,cxd5,Bxc3+,bxc3,exd5,Bd3,O-O,O-O,Bg4,h3,Bh5,Be2,Nc6,Ne5,Bxe2,Qxe2,Nxe5,dxe5,Re8,f4,Ne4,Qd3,Rc8,Bb2,Qb6+,Kh2,Qxb2,Qxd5,Nxc3,Qd4,Red8,Qe3,Rd2,Rg1,Ne2,e6,Nxg1,exf7+,Kf8,Rxg1,Re2,Qd3,Kxf7,Qf5+,Qf6,Qxc8,Qxf4+,Kh1,Rxa2,Qxb7+,Kg6', 'Qb1+,Qf5,Qxa2', 'https://lichess.org/training/TRppR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TRpvD', 'Blitz', 'Kahju', 2213, 'FM ZappBrannigan86', 2474, 'Nf3,c5,g3,g6,Bg2,Bg7,O-O,Nc6,c4,Nf6,Nc3,O-O,d4,cxd4,Nxd4,d6,Nxc6,bxc6,Bxc6,Rb8,Rb1,Qa5,a3,Bf5,e4,Bh3,Re1,Rfc8,Nd5,Qd8,Ba4,Rxc4,Bb3,Rxe4', 'Nxf6+,Bxf6,Rxe4', 'https://lichess.org/training/TRpvD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TrQcu', 'Blitz', 'Shadi-Moossa', 1653, 'eml406', 1649, 'f4,d5,Nf3,c5,e3,g6,Be2,Bg7,O-O,Nc6,c3,Nf6,d4,b6,Ne5,Nxe5,fxe5,Ne4,Bd3,O-O,Qf3,Bb7,Nd2,Ng5,Qf2,e6,Nf3,Rc8,Nxg5,Qxg5,e4,Qe7,h4,cxd4,Bg5,Qc7,cxd4,h6,Rac1,Qd7,Rxc8,Rxc8,exd5,hxg5,dxe6,Qxe6,h5,gxh5,Bf5,Qc6,Bxc8,Qxc8,Qxf7+,Kh7,Qxh5+,Kg8,Qf7+,Kh7,e6,Qc6,Rf3,Qc1+,Rf1,Qe3+,Kh1', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/TrQcu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Trqdk', 'Blitz', 'yura2005', 1961, 'Serzh1956', 2134, 'e4,c5,Nf3,e6,c4,d6,Nc3,a6,Be2,Qc7,d4,cxd4,Nxd4,Nf6,O-O,Be7,Be3,Nbd7,f4,b6,Qc2,Bb7,b4,Rc8,Rac1,O-O,a3,Rfe8,Qd3,Bf8,h3,Qb8,Nf3,Qa8,e5,Ne4,Nxe4,Bxe4,Qd4,d5,Ng5,Bg6,cxd5,exd5,Rc2,Rxc2,Bf3,Qc8,f5,Bxf5,Nxf7,Qc3,Bxd5,Be6,Bxe6,Rxe6,Qxd7,Qxe3+,Kh1,Qd2', 'Nh6+,Qxh6,Qf7+,Kh8,Qxf8#', 'https://lichess.org/training/Trqdk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tRR6F', 'Classical', 'debojitsinha', 1954, 'DomingoRemga', 1974, 'e4,d6,d4,Nf6,Nc3,g6,Be3,c6,Be2,Nbd7,Nf3,b5,a3,Bb7,Qd2,a5,Bh6,Bxh6,Qxh6,b4,axb4,axb4,Rxa8,Qxa8,Nd1,Nxe4,Qg7,Rf8,Qxh7,Ndf6,Qh4,c5,Bb5+,Bc6,Bxc6+,Qxc6,c3,Qa6,Ng5,Qd3,Nxe4,Nxe4,Qg4,Qd2+,Kf1,Qd3+,Qe2,Qb1,g3,f5,Qb5+,Kf7,Kg2,Kg7,dxc5,bxc3,Nxc3', 'Nxc3,Qb7,Qe4+,Qxe4,Nxe4', 'https://lichess.org/training/tRR6F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tRSNr', 'Rapid', 'aleksejdyundin', 1724, 'Akiba12506', 1768, 'e4,e5,Nf3,Bc5,Nxe5,Qe7,d4,Bb4+,c3,Bd6,f4,Bxe5,dxe5,d6,Qd5,dxe5,Qxe5,Qxe5,fxe5,Nc6,Bf4,Nge7,Bb5,Bd7,e6,Bxe6,Bxc7,O-O,Bd6,Rfe8,e5,a6,Bxc6,Nxc6,O-O,Bc4,Re1,Re6,b3,Bd3,Re3,Bf5,Nd2,Rae8,Nf3', 'Rxd6,exd6,Rxe3', 'https://lichess.org/training/tRSNr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('trufb', 'Blitz', 'Tojvo_Kekkonen', 2221, 'justamauter', 2214, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,O-O,Nc3,d6,e4,Nbd7,Nge2,e5,O-O,exd4,Nxd4,Re8,Re1,Nc5,Qc2,a5,Nde2,Ng4,h3,Ne5,b3,Ned3,Rd1,Nxc1,Raxc1,c6,Qd2,Qb6,Qxd6,a4,Rb1,axb3,axb3,Ra3,b4,Na4,Nxa4,Rxa4,c5,Qa6,Nf4,Ra2,Rd2,Be5,Rxa2,Qxa2,Qd1,Bxf4,gxf4,Qa3,Rb3,Qa2,Rd3,Be6,Rd8,Rxd8,Qxd8+,Kg7,Qd4+,f6,e5,f5,Qd6,Kf7,Qc7+,Kg8,Qxb7,Qb1+,Kh2,Qc1,Kg3,Qc3+,Bf3', 'Bd5,Qc8+,Kg7,Qd7+,Kh6,Qxd5,cxd5', 'https://lichess.org/training/trufb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TRUvm', 'Blitz', 'FM Ahmdnjr12512', 2181, 'BalaRionegrina', 2247, 'e4,d5,e5,c5,c4,e6,cxd5,exd5,d4,Be6,Nf3,cxd4,Nxd4,Nc6,Bb5,Qb6,Be3,Bc5,Nc3,Bxd4,Bxd4,Qc7,O-O,Ne7,Rc1,O-O,f4,Nf5,Bf2,a6,Bd3,Rad8,g4,Nfe7,f5,Bc8,Bg3,Qb6+,Kh1,f6,exf6,Rxf6,Na4,Qb4,b3,Rff8,Be1,Qd6,Bg3,Qb4,Rf4,Qd6,Rb4,Nxb4,Bxd6,Rxd6,Qe1,Nbc6,Qg3,Rdd8,Nc5,Nb4,a3,Nxd3,Qxd3,Nc6,b4,Rfe8,b5,Ne5,Qd4,axb5,Re1,Nf7,Rxe8+,Rxe8,Qxd5,Re5,Qd4,b6,Nd7,Re8,Nxb6,Bb7+,Kg1,Bf3,Kf2,Ng5,h4,Re2+,Kg3', 'Rg2+,Kf4,Rxg4+', 'https://lichess.org/training/TRUvm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tRVgJ', 'Rapid', 'bejosongo', 1627, 'rajarshi', 1683, 'c4,c5,Nc3,e6,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Bg5,h6,Bh4,Be7,h3,d6,e3,a6,Nf3,Qc7,Bg3,O-O,c5,Nh5,cxd6,Nxg3,dxc7,Nxh1,Qc2,b5,O-O-O,Ra7,Nxb5,axb5,Qxc6,Nxf2,Rd2,Bb7,Qb6,Rfa8,a3,Ne4,Rd7,Bc5,Qxb5,Bxe3+,Kb1,Nc5,Rd8+,Kh7,Rxa8,Be4+,Ka1,Rxa8,Qc4,Bd5,Qc2+,g6,Ne5,Bd4,Nxf7,Rxa3+,Kb1,Ra8,Nd6,Nb3,Qd3', 'Ra1+,Kc2,Rc1#', 'https://lichess.org/training/tRVgJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('trViq', 'Blitz', 'intobolivian', 2309, 'LM OhNoMyPants', 2479, 'd4,d6,c4,e5,Nf3,e4,Ng5,Nf6,Nc3,Qe7,Qc2,Nc6,e3,Bf5,d5,Ne5,Ngxe4,Nxe4,Nxe4,O-O-O,Nxd6+,cxd6,Qxf5+,Kb8,Be2,Rc8,b3,g6,Qc2,Bg7,Bb2,f5,O-O-O,Rhf8,h4,f4,e4,f3,gxf3,Nxf3,Bxg7,Qxg7,Bxf3,Rxf3,Rd3', 'Qa1+,Qb1,Qxb1+,Kxb1,Rxd3', 'https://lichess.org/training/trViq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TrxIX', 'Rapid', 'Salerpipopette', 1720, 'abdolreza_sh_n1', 1733, 'e4,e6,Nf3,b6,d4,Bb7,Bd3,Bb4+,c3,Bf8,Nbd2,Nf6,e5,Nd5,c4,Nb4,Be4,Bxe4,Nxe4,f5,Neg5,h6,Nh3,N8c6,a3,Na6,Be3,g5,Nhg1,f4,Bd2,g4,Bxf4,gxf3,Qxf3,Nxd4,Qh5+,Ke7,Bg5+,hxg5,Qxh8,Nc2+,Kd2,Nxa1,Kc3,Nc5,Nf3,Nab3,Nxg5,d5', 'Qh7+,Bg7,Qxg7+,Ke8,Qf7#', 'https://lichess.org/training/TrxIX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TrXw1', 'Rapid', 'kennedymush', 2136, 'David_Avalyan7', 2035, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Nxd4,Nxd4,Qxd4,Nf6,Nc3,Be7,Bg5,O-O,O-O-O,Qe8,Rhe1,Be6,Bd3,Nd7,Bxe7,Qxe7,f4,Nc5,f5,Bd7,Nd5,Qg5+,Kb1,c6,Ne3,Nxd3,Qxd3,Rad8,h4,Qf4,g3,Qe5,Ng4,Qa5,Qf3,c5,f6,Bxg4,Qxg4,g6,Qg5,Kh8,e5,dxe5,Qh6,Rg8,c3,Qc7,h5,Rd6,hxg6,Rxd1+,Rxd1,fxg6,Rh1,Qf7,Qg5,Qd5', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/TrXw1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('trYrQ', 'Rapid', 'Kirill-20', 2010, 'pugovka', 2044, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Ng3,e6,Bd3,Qc7,O-O,c5,dxc5,Bxc5,Re1,O-O,Be3,b6,Bxc5,Nxc5,Qe2,Nxd3,Qxd3,Bb7,c4,Rfd8,Qc3,Rac8,b3,b5,Qe5,bxc4,Qxc7,Rxc7,bxc4,Rxc4,Ne5,Rc2,Rab1,Ba6,a3,g6,Nf3,h5,h4,Rd7,Rec1,Rdc7,Rb8+,Kg7,Rxc2,Rxc2,Rb4,Ng4,Ra4,Bb7,Ng5,Rxf2,Rxa7,Rxg2+,Kf1,Ne3+,Ke1,Bf3', 'Rxf7+,Kg8,Rxf3', 'https://lichess.org/training/trYrQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tryzb', 'Rapid', 'hurmanoid', 2087, 'samjjames', 2063, 'd4,Nf6,f3,d6,e4,g6,Bd3,Bg7,Ne2,O-O,O-O,e5,d5,Nbd7,c4,Nc5,Be3,Nxd3,Qxd3,a5,Nbc3,Nh5,Qd2,Bd7,Bh6,Bxh6,Qxh6,Ng7,g4,f5,h3,f4,Kg2,g5,Rh1,Rf7,h4', 'Rf6,Qxh7+,Kxh7', 'https://lichess.org/training/tryzb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TS1w5', 'Rapid', 'sammybeliz', 1887, 'asad432', 1843, 'b3,d5,Bb2,Bf5,Nf3,f6,e3,Nd7,c4,c6,cxd5,cxd5,Nd4,Bg6,Nc3,Bf7,Rc1,e5,Nf3,a6,d4,e4,Nd2,Bb4,a3,Bxc3,Bxc3,Rc8,f3,Ne7,fxe4,dxe4,Nxe4,O-O,Bd3,Nd5,Bd2,Rxc1,Qxc1,Bg6,O-O,Qe7,Nf2,Bxd3,Nxd3,b5,Nc5,Nxc5,Qxc5,Qxc5,dxc5,Rc8,b4,a5,e4,Ne7,Re1,axb4,axb4,Nc6,Bc3,Kf7,e5,f5,Rf1,Ke6,Re1,Rd8,Kf2,Rd3,Re3,Rd1,Ke2,Rh1,h3,Rg1,g3,g5,Kf2,Rh1,Kg2,Rc1,g4,f4,Rd3,Rc2+,Kf3,Rh2,Rd6+,Ke7,Rxc6,Rxh3+,Ke4,Rxc3,Rf6,Rc4+,Kd5,Rxb4,c6,Rb1,Kc5,Rc1+,Kxb5,Kd8,e6,Ke7,Rh6', 'f3,Rxh7+,Kxe6', 'https://lichess.org/training/TS1w5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ts3Es', 'Rapid', 'irvi_7667', 1742, 'leandro1989', 1743, 'b3,Nc6,Bb2,e5,Nf3,d6,h3,Be6,e4,Nge7,Be2,g6,d3,Bg7,c4,Qd7,O-O,f5,exf5,gxf5,Nh2,O-O,f3,Kf7,Nc3,Rg8,Kh1,h5,Bc1,Bf6,Bd2,Rg7,Be1,f4,Ne4,Rag8,Nxf6,Kxf6,Bh4+,Kf5,Rg1,Nd4,Qd2,Ng6', 'g4+,fxg3,Qg5#', 'https://lichess.org/training/ts3Es');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tS3y2', 'Blitz', 'academiabrxadrez', 2433, 'CM Itachi2096', 2375, 'Nf3,d5,b3,Bf5,Bb2,e6,e3,Nf6,d4,Bd6,Nbd2,Nbd7,Bd3,O-O,O-O,c6,Ne5,Bxe5,dxe5,Ng4,Nf3,Qc7,Bxf5,exf5,Qd4,Rfe8,e6,Ndf6,exf7+,Qxf7,h3,Nh6,Qh4,Ne4,Rad1,Qe7,Qxe7,Rxe7,Nd4,g6,Rfe1,Nf7,Ba3,Ree8,Nf3,Rad8,Rd4,Ne5,Nxe5,Rxe5,Bb2,Ree8,Ra4,a6,Rd4,Kf7,Rdd1,Rd7,a4,h6,Bd4,g5,a5,Rde7,b4,Re6,c3,f4,exf4,gxf4,f3,Nd6,Rxe6,Rxe6,Kf2,Nc4,Rd3,Kg6,Rd1,Kf5,Rg1,Nb2,g4+,fxg3+,Rxg3,Nd3+,Kf1,Re1+,Kg2,Nf4+,Kf2,Re2+,Kf1,Rh2,Rg8,Nxh3,Rf8+,Ke6', 'Rf6+,Ke7,Rxh6', 'https://lichess.org/training/tS3y2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TS3Z8', 'Rapid', 'The_Baltic_Defense', 2247, 'hooloo1024', 2001, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,c4,Nc6,O-O,Nf6,Nc3,e5,d3,Be7,Bg5,O-O,Bxf6,Bxf6,Nd5,Bd8,Rb1,a5,a3,Ne7,Nxe7+,Bxe7,b4,axb4,axb4,b6,bxc5,bxc5,Qb3,Ra7,Ne1,Rfa8,Nc2,Bg5,Ne3,Bxe3,fxe3,h6,Qb5,Qg4,Qc6,Ra2,Rf2,Rxf2', 'Qxa8+,Kh7,Kxf2', 'https://lichess.org/training/TS3Z8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TS623', 'Rapid', 'Street_52nd', 2059, 'AC_Boi22', 1751, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nb5,Qa5+,N1c3,a6,Nd6+,Bxd6,Qxd6,Nf6,Bd2,Qb6,Rb1,Ng4,Qg3,h5,h3,Nge5,Qxg7,Rf8,Bd3,d6,Qh7,Bd7,Bh6,O-O-O,Bxf8,Rxf8,Qxh5,Nxd3+,cxd3,Ne5,Qe2,Rg8,O-O,Nc6,Qe3,Nd4,Rfc1,Kb8,b3,e5,Nd5,Qd8,Rc7,Bc6,Rc1,f5,f3,f4,Qe1,Qg5,Qf2,Qh5,Kh1,Rg3,Kh2', 'Nxf3+,Qxf3,Rxf3', 'https://lichess.org/training/TS623');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TS6oE', 'Blitz', 'blunder_by_blunder', 2035, 'zhidrunas', 1529, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,Qxf6,Nxf6,Nc3,Bb4,Bd3,O-O,O-O,Bxc3,bxc3,d6,Bg5,Nh5,f3,f6,Bd2,g5,Bc4+,Kg7,Rae1,Bd7,Bb3,h6,g4,Nf4,Bxf4,gxf4,Kg2,Kg6,Kh3,Kg5,Kg2,Rh8,Bf7,Be8', 'h4+,Kxh4,Rh1+,Kg5,Rh5#', 'https://lichess.org/training/TS6oE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ts8JU', 'Rapid', 'PeranicAkiba', 2015, 'Buaimid', 1732, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,d6,O-O,O-O,d4,exd4,Nxd4,a5,a4,Bg4,f3,Bh5,Kh1,Re8,Bg5,Nbd7,Nd5,Rxe4,c3,Bxd4,cxd4,c6,Nxf6+,gxf6,g4,Re7,Bh4,Bg6,d5,Nb6,Bb3,Re3,Qd4,Rd3,Qxf6,Qxf6,Bxf6,Rxb3,dxc6,bxc6,Rae1,Nd5,Bg5,Rxb2,f4,Rb4,f5,Rxg4,h4,Bh5,Rg1,Rxa4,Bh6+,Kh8,Bg7+,Kg8,f6,Rxh4+,Kg2,Rg4+,Kh3,Rxg7,Rxg7+,Kf8,Rg5,Bg6,Rf1,Re8,Rc1,Nf4+,Kh2,Re2+,Kh1,Be4+,Kg1,Bd3,Rxc6,Re6,Rc8+,Re8', 'Rg8+,Kxg8,Rxe8#', 'https://lichess.org/training/ts8JU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ts8sU', 'Blitz', 'FM Ginzburg_Yakov', 2365, 'Miha21il', 1929, 'Nf3,Nf6,c4,e6,Nc3,Nc6,e4,e5,d4,exd4,Nxd4,Nxd4,Qxd4,Bb4,Bd3,d6,O-O', 'Bc5,Qxc5,dxc5', 'https://lichess.org/training/Ts8sU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tS9dQ', 'Rapid', 'Caballitoazul', 1630, 'victoriouz', 1628, 'd4,d5,Nf3,Nf6,h3,Nc6,e3,e6,a3,Bd6,c4,O-O,Nc3,dxc4,Bxc4,a6,b4,b5,Bd3,Bb7,Ne4,Nd5,Bb2,f5,Nc5,Bc8,Ne5,Qh4,Nxc6,Nxe3,Qf3,Bf4,Ne7+,Kh8,g3,Qxe7,Qxf4', 'Ng2+,Ke2,Nxf4+', 'https://lichess.org/training/tS9dQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TscPd', 'Rapid', 'Guy_de_Vere', 1753, 'gimnp', 1715, 'd4,d5,Bf4,Nc6,Nf3,Nf6,h3,e6,Nc3,a6,e3,Bd6,Ne5,Nxe5', 'dxe5,Be7,exf6', 'https://lichess.org/training/TscPd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TSdeJ', 'Rapid', 'sasha-sasha', 1610, 'DuarteSilva', 1684, 'e4,e5,Nf3,d6,Bc4,Be7,d3,Nf6,h3,c6,a3,a5,Nc3,O-O,Be3,b5,Ba2,c5,Qd2,Bb7,g4,Nfd7,h4,Nc6,g5,Nd4,Nxd4,cxd4,g6,dxe3,gxf7+,Kh8,Qxe3,Bxh4,O-O-O,Qg5,Qxg5,Bxg5+,Kb1,h6,Nxb5,Be7,Rdf1,Bc6,Nc3,Nc5,f4,exf4,Rxf4,Bg5,Rff1,Ra7,Rfg1,Bf6', 'Rxh6+,gxh6,Rg8+,Kh7,Rxf8', 'https://lichess.org/training/TSdeJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsDjb', 'Blitz', 'marcellourquiza', 2206, 'NM evandrorsilva', 2124, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Qc2,Re8+,Ne2,h6,O-O,Qc7,h3,Nd7,Be3,c5,Qd2,cxd4,cxd4,Nf8,Rac1,Qe7,Nf4,b6,Nd5,Qb7,Nc3,Be6,Be4,Qa6,Bxa8,Rxa8,Ne4,Be7,Rc7,Bd8,Rc3,Be7,a3,f5,Ng3,Ng6,d5,Rd8,Rd3,f4,Bxf4,Nxf4,Qxf4,Qxd3,dxe6,fxe6,Re1,Bd6,Qg4,Bxg3,fxg3,Rd6,Rxe6,Qb1+,Kh2,Rd1,Re8+,Kh7,Qe4+,Qxe4,Rxe4,Rd2,Rb4,Kg6,g4,Kf6,b3,Ke5,a4,Rd5,Kg3,Kd6,Kf4,Kc6,Ke4,Rd2,g3,Rh2,h4,Rf2,Rc4+,Kb7,Rc3,a5,Ke5,Ka6,Kd6,g5,hxg5,hxg5,Ke5,Kb7,Ke4,b5,axb5,Kb6,Rf3', 'Rxf3,Kxf3,Kxb5,Ke4,Kb4,Kf5,Kxb3,Kxg5,a4', 'https://lichess.org/training/tsDjb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tSFUx', 'Rapid', 'serwilk', 1898, 'cedaLuLu314', 1916, 'e4,g6,d4,Bg7,Nf3,d6,Bd3,Nd7,Nc3,c5,d5,Ngf6,O-O,O-O,Qe2,Ng4,h3,Nge5,Nxe5,Nxe5,Bg5,a6,f4,Nd7,f5,Ne5,fxg6,fxg6,Rf2,b5,Raf1,Rxf2,Qxf2,Bb7,Bf4,Nxd3,cxd3,Bd4,Be3,Bxe3,Qxe3,Qa5,Qf4,Qd8,Qf7+,Kh8,Qf4,b4,Ne2,a5,e5,Bxd5,d4,Bxa2,dxc5,dxc5,e6,Bxe6', 'Qe5+,Kg8,Qxe6+', 'https://lichess.org/training/tSFUx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsgjp', 'Rapid', 'MahmoudA1968', 1923, 'unbeknownst', 1776, 'e4,e6,Nf3,d5,exd5,exd5,Bb5+,c6,Be2,Nf6,O-O,Bd6,c4,O-O,cxd5,Nxd5,Nc3,Nxc3,bxc3,h6,Bb2,Bf5,d4,Re8,Bd3,Bxd3,Qxd3,Nd7,Rae1,Qc7,g3,Nf6,Ne5,Bxe5,dxe5,Rxe5,c4,Rxe1,Rxe1,Rd8,Qa3,Nd7,Qxa7,Nb6', 'Be5,Qd7,Qxb6', 'https://lichess.org/training/tsgjp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tshnJ', 'Rapid', 'Selnes', 1875, 'Manguan', 1836, 'e4,Nf6,Nf3,Nxe4,Bc4,e6,d3,Nf6,O-O,d5,Bb3,Nc6,Re1,Bd6,Bg5,O-O,Nc3,h6,Bh4,Be7,h3,a5,a4,b6,Ne2,Ba6,Nf4,Qd7,c3,Rad8,Bxf6,Bxf6,Nh5,Qe7,Nd2,Ne5,d4,Nd3,Re3,Bg5,Rg3,g6,Bc2,gxh5,Qxh5,Kh7,Bxd3+,Bxd3,Rxd3,Qf6,Nf3,Rg8,Re1,Bf4,Ne5,Rg5', 'Qxf7+,Qxf7,Nxf7', 'https://lichess.org/training/tshnJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TsI2R', 'Blitz', 'vorgartenzwerg', 1753, 'Ruzzer0', 1737, 'd4,d5,Bg5,f6,Bh4,c5,Nf3,Nc6,e3,Qb6,b3,cxd4,Nxd4,Nxd4,exd4,e5,dxe5,fxe5,Qxd5,Qb4+,c3,Qxh4,Qxe5+,Be7,Bc4,Qf6,Qb5+,Qc6,Qe5,Bd7,O-O,O-O-O,Nd2,Nf6,Qxe7,Rhe8,Qb4,Nd5,Bxd5,Qxd5,Nc4,Bc6,f3,Re2,Rf2,Rde8,Rxe2,Rxe2,Nd6+,Kb8,Qd4,Rxg2+,Kxg2', 'Qxf3+,Kg1,Qg2#', 'https://lichess.org/training/TsI2R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsj9w', 'Classical', 'FILIPN05', 2007, 'GurbanovShamil', 1990, 'd4,Nf6,Bf4,c5,d5,d6,Nc3,Bf5,f3,Qb6,e4,Qxb2,Nb5,Bxe4,fxe4,Qb4+,Qd2,Qxe4+,Qe2,Qxf4,Nc7+,Kd7,Nxa8,Qb4+,Kf2,Qd4+,Ke1,Qxa1+,Qd1,Qe5+,Be2,Nxd5,Nf3,Qc3+,Kf2,Qe3+,Kf1,Nc3,Ne5+,Qxe5,Bg4+,f5,Qf3,e6,Qxb7+,Ke8,Nc7+,Kd8,Qxb8+,Kd7,Qxa7,Qf4+,Bf3,Qc1+,Kf2,Qxc2+,Kg3,Qa4,Na6+,Ke8,Re1,e5,Qb7,Qf4+,Kf2,e4', 'Nc7+,Kf7,Nd5+,Ke6,Nxf4+', 'https://lichess.org/training/tsj9w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tSkeJ', 'Rapid', 'JomsQt4ever', 2191, 'Drozd1535', 2154, 'c4,b6,d4,Bb7,Nc3,e6,d5,exd5,cxd5,Nf6,e4,Bb4,Bd3,c6,Bg5,h6,Bh4,g5,Bg3,cxd5,exd5,Nxd5,Ne2,Nxc3,Nxc3,Bxg2,Rg1,Qe7+,Qe2,Qxe2+,Bxe2,Bxc3+,bxc3,Bc6,Bd6,a5,Rg3,f5,Re3+,Kf7,Re7+,Kg6,Be5,Rg8,Bc4,d5,Be2,g4,Rb1,Nd7,Re6+,Kh5,Bf4,Rg6,Re3,Ra7', 'Rh3#', 'https://lichess.org/training/tSkeJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tSKKE', 'Rapid', 'Belya', 1920, 'AjiBond', 2159, 'Nf3,c5,c3,b6,d4,Bb7,d5,d6,g3,e5,e4,f5,c4,fxe4,Ng5,Nf6,Bg2,Bc8,Nxe4,Be7,Bg5,O-O,Nxf6+,Bxf6,Bxf6,Qxf6,O-O,Ba6,b3,b5,Nd2,bxc4,bxc4,Bc8,Ne4,Qe7,Rb1,Nd7,Qa4,Nb6', 'Rxb6,axb6,Qxa8', 'https://lichess.org/training/tSKKE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tskmo', 'Rapid', 'Blacktoothgrim', 1724, 'dogosonico', 1746, 'd4,d5,c4,dxc4,Nc3,Nc6,Nf3,Bg4,e3,e6,a3,Qf6,Be2,Bxf3,Bxf3,Bd6,O-O,Nh6,d5,exd5,Nxd5,Qe5,Nf4,g5,Re1,O-O-O,Bxc6,bxc6,Bd2,gxf4,Bc3,Qe8,Bxh8,Qxh8,Qa4,fxe3,Rxe3,Ng4,Rc3,Bxh2+,Kf1,Be5,Qa6+,Kd7,Rd1+,Bd6,Qxc4,Nh2+,Kg1,Ke8,Re3+,Kf8,g3,Qg7,Kxh2,Bxg3+,Rxg3,Qh6+,Kg2,Rxd1,Qc5+,Ke8,Re3+,Kd8,Qxc6,Qh1+,Kg3,Rg1+,Kf4,Qh4+,Kf3,Qh3+,Ke4,Rg4+,Kd3,Qf1+,Re2,Qd1+,Rd2,Qb3+', 'Ke2+,Ke7,Qd7+,Kf6,Qxg4', 'https://lichess.org/training/Tskmo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tSM00', 'Classical', 'gregahribar', 1615, 'Azorrod', 1873, 'e4,Nf6,e5,Nd5,Nf3,Nc6,d4,e6,c3,d6,Bb5,Bd7,O-O,Be7,Re1,O-O,Nbd2,a6,Ba4,dxe5,dxe5,Bc5,Bc2,Nce7,Ne4,Bb6,a3,Ng6,c4,Nde7,Bg5,h6,Bd2,Bc6,b4,a5,c5,Ba7,Nc3,Bxf3,gxf3,Nd5,Qb1,Qh4,Nxd5,exd5,e6,Nf4,Bxf4,Qxf4,e7,Rfe8,Bh7+,Kh8,Qf5,Qxf5,Bxf5,Kg8,Bd7,c6,Bxe8,Rxe8,Rac1,f6,Re6,Bb8,Re2,Kf7,Rce1,Be5,Kg2,Rxe7,Kh3,a4,Kg4,g5,h4,Kg6,h5+,Kf7,Kf5,Rd7,Rd1,d4,Ke4,Ke6,Red2,Rd5,Kd3,Kf5,Kc4,Rd8,b5,Ra8,Rb1,Kf4,Rd3,g4,fxg4,Kxg4,Rh1,Ra5,bxc6,bxc6,Kb4,Rb5+,Kxa4,Rxc5,Kb4,Rc2,f3+,Kg5,a4,c5+,Kb5,c4,Ra3,c3,a5,Rb2+,Kc4,Kf4,a6,Rb8,Kd3,Kxf3,a7,Ra8,Rg1,Bg3,Kxd4', 'Bf2+,Kxc3,Bxg1', 'https://lichess.org/training/tSM00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsm5h', 'Blitz', 'mortaksafia', 2003, 'agkazama', 1952, 'e4,c5,Nf3,d6,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,O-O,Nf6,e5,dxe5,Qxd8+,Kxd8,Ng5,Ke8,Nb5,Rb8,Rd1,h6,Be3,hxg5', 'Nc7+,Ke7,Bc5#', 'https://lichess.org/training/tsm5h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tSm9q', 'Rapid', 'geracanas', 1903, 'Palm69', 1888, 'e4,d6,d4,Nf6,Nc3,g6,Be3,c6,h3,Nbd7,Nf3,Bg7,Qd2,h6,O-O-O,Nb6,g4,d5,exd5,Nbxd5,Ne5,Nxe3,fxe3,Be6,Bg2,Qc7,e4,O-O-O,Qe3,Nd7,Nxd7,Rxd7,d5,Bxc3,Qxc3,Rhd8,Kb1,cxd5,Qa3,dxe4,Rxd7,Qxd7,Qc5+,Kb8,b3,f5,gxf5,gxf5,Qe5+,Qd6,Qc3,Qd2,Qe5+,Qd6,Qc3,Qd4,Qe1,Bd5,Qe2,f4,Rd1,f3,Bxf3,exf3', 'Qh2+,Kc8,Rxd4', 'https://lichess.org/training/tSm9q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TSMM7', 'Rapid', 'jokido', 2145, 'bradvata', 2116, 'e4,e6,d4,b6,Nc3,Bb7,Nf3,g6,Bg5,Be7,Bxe7,Nxe7,Bd3,O-O,Qd2,f5,e5,Nd5,h4,Nxc3,bxc3,f4,Ke2,d6,Rag1,Nd7,Ng5,dxe5,Nxe6,Qf6,Bc4,Kh8,Nxf8,f3+,gxf3,Bxf3+,Kf1,Rxf8,Rh3,e4,Be2,Bxe2+,Qxe2,c5,Re3,Qxh4,Rxe4,Qh3+,Rg2,Qxc3,Re7,Qxd4,Qd3,Qa1+,Ke2,Nf6,Rxa7,Re8+,Kf3,Qe5,Rg3,Nh5,Rxh7+,Kxh7', 'Qxg6+,Kh8,Qh6#', 'https://lichess.org/training/TSMM7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tsn6s', 'Blitz', 'MESSSERR', 1537, 'Pavlofox', 1772, 'e4,e5,Bc4,Nc6,Nf3,Nd4,Nxe5,Qg5,Bxf7+,Ke7,O-O,Qxe5,Bxg8,Rxg8,c3,Nc6,f4,Qc5+,d4,Qb6,e5,d6,Qh5,h6,Be3,Be6,f5,Bf7,f6+,Ke8,Qf3,Qxb2,Nd2,Qxc3,Rac1,Nxd4,Qxb7,Qxe3+,Rf2,Rd8,Rxc7,Qe1+,Nf1,Qxe5,Rxf7,gxf6,R2xf6,Be7,Rf2,Rf8', 'Rxf8+,Bxf8,Qf7#', 'https://lichess.org/training/Tsn6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tSnOB', 'Rapid', 'DARDELU', 1745, 'obasekiosamu', 1707, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Be2,Bb4,O-O,d6,a3,Bxc3,dxc3,Nxe4,Re1,Nf6,Bg5,h6,Bxf6,Qxf6,Bf1,O-O,Qe2,Bg4,Rad1,Rfe8,Qe4,Bf5,Qe2,Rad8,Rd2,d5,Qb5,b6,Rxd5,Rxd5,Qxd5,Bxc2,Bb5,Re6,Bxc6,Rxc6,Rxe5,Rd6,Qa8+,Kh7,Re1,a5,Nd4,Bg6,Qf3,c5,Nb5,Qxf3,gxf3,Rd2,b4,axb4,axb4,cxb4,cxb4,Rb2,Re7,Rxb4,Nd6,Rb1+,Kg2,b5,Nxf7,b4,Ne5,b3,Rb7,b2,Nc4,Bd3,Rxb2,Rxb2,Nxb2,Bf5,Nc4,Kg6,Kg3,Kg5,f4+,Kh5,Ne3,Be4,f3,Bd3,h4,Bb1,Nd5,Kg6,Kg4,Bf5+,Kg3,Be6,Ne3,Kf6,Ng4+,Kf7,Ne5+,Kf6,h5,Kf5,Ng4,Bd7,Ne3+,Kf6,Kh4,Bc6,Ng4+,Ke6,Ne5,Bb7,Kg4,Kf6,Nd7+,Kf7,f5,Bc8,Ne5+,Kf6,Kf4,Bxf5,Ng4+,Ke6,Ne3,Bb1,Kg4,Kf6,f4,Kf7,Nd5,Bc2,Ne3,Bb3,Nf5', 'Be6,Kf3,Bxf5', 'https://lichess.org/training/tSnOB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsNQa', 'Blitz', 'TORNADO111', 1777, 'animah88', 1738, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Bg5,Qd6,Nf3,Be7,O-O,O-O,Re1,Bg4,Nbd2,Nc6,c3,Rfe8,Qc2,h6,Bh4,Bf8,Bg3,Qd7,Ne5,Nxe5,Bxe5,Re6,h3,Bh5,Bf5,Bg6,Bxg6,fxg6,Qxg6,Ne4,Qg4,Nxd2,f3,Nc4,f4,Nxb2,Rab1,Nd3,Re2,Nxe5,Rxe5,Rae8,Rxb7,Qc6,Rb3,Rxe5,fxe5,a5,Qf3,Re7,Rb8,Rf7,Qg3,Qa4,e6,Qd1+,Kh2,Rf1,Qxc7,Rh1+,Kg3,Qe1+,Kg4,Rg1,Qf7+,Kh7', 'Qf5+,g6,Qf7+,Bg7,Qg8#', 'https://lichess.org/training/tsNQa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsNRz', 'Rapid', 'knight0x300', 1784, 'SebaChile91', 1886, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kxf2,Nxe4+,Kg1,Qh4,g3,Nxg3,hxg3,Qxg3+,Kf1,Qf4+,Ke1,Qe4+,Kf2,Rf8,d3,Qf5+,Ke1,Nd4,Nd2,b5,Rf1,Qg6,Bd5,c6,Be4', 'Qg3+,Rf2,Rxf7', 'https://lichess.org/training/tsNRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TsntP', 'Classical', 'ullimela', 1773, 'Atila-Le-Un', 1873, 'e4,d5,e5,c5,c3,Bf5,d4,e6,Bf4,Nc6,Nf3,Qb6,b3,Nge7,Be2,h6,h3,g5,Bd2,Bg7,O-O,O-O-O,Be3,cxd4,cxd4,Kb8,Nc3,f6,Na4,Qc7,Rc1,fxe5,dxe5,Bxe5,Nxe5,Qxe5,Bd4,Nxd4,Re1,Nxe2+,Rxe2,Qd6,Qd4,Rc8,Nc5,Ka8,b4,b6,Nb3,Rxc1+,Nxc1,Rc8,Nb3,Nc6,Qg7,Nd4,Qxd4,Bc2,Nd2,Bd3', 'Qxd3,Rc1+,Nf1', 'https://lichess.org/training/TsntP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tSp4u', 'Rapid', 'asandre', 1872, 'chessotoni', 1792, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,Bf4,e6,cxd5,cxd5,e3,a6,Bd3,Ne4,O-O,h6,Nd2', 'Nxc3,bxc3,Bxd3', 'https://lichess.org/training/tSp4u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tspKE', 'Rapid', 'impetusrahul', 1645, 'KaioSousa', 1639, 'd4,d5,e3,Nc6,a3,Nf6,h3,e6,Bd2,h5,Bb5,Bd6,Bb4,Bxb4+,axb4,a6,Bxc6+,bxc6,Qd3,Qe7,c3,e5,dxe5,Qxe5,Ne2,Qe7,O-O,Ng4,hxg4,hxg4,Rd1,Qh4,Kf1,g3,Nxg3,Be6,Rxa6,Rd8,Rxc6,Bg4,Rc5', 'Qh1+,Nxh1,Rxh1#', 'https://lichess.org/training/tspKE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TspoI', 'Blitz', 'Fifthwave', 1819, 'Wong_Linggau', 1525, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,Bg4,f3,Bh5,Bxc4,e6,a3,Be7,Nge2,O-O,O-O,c5,d5,exd5,exd5,Qd6,Bf4,Qb6,Rb1,Bd6,Be3,Nbd7,Ng3,Bxg3,hxg3,Rfe8,Bf2,Rad8,Na4,Qd6,b4,Ne4,Qc2,Nxg3,bxc5,Nxc5,Bxc5,Qf4,Rfe1,Qh4,Nc3,Bxf3,Rxe8+,Rxe8,gxf3', 'Qh1+,Kf2,Qh2#', 'https://lichess.org/training/TspoI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsPPx', 'Blitz', 'FM robertosalgado', 2206, 'FM lazarofree', 2313, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Qg4,cxd4,Qxg7,Rg8,Qxh7,Qc7,Ne2,Nbc6,f4,dxc3,Qd3,Bd7,Nxc3,a6,h4,O-O-O,Rb1,b5,Nxb5,axb5,Qxb5,Be8', 'Qa6+,Kd7,Rb7,Rb8,Rxc7+', 'https://lichess.org/training/tsPPx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TSPrc', 'Rapid', 'moritake', 1696, 'gorigonzalez', 1636, 'Nf3,e6,d4,d5,Bf4,c5,Nbd2,Nc6,e3,Qb6,c4,cxd4,cxd5,exd5,Be2,dxe3,Bxe3,Qxb2,O-O,Qc3,Qa4,Qa5,Qf4,Qd8,Ng5,Qf6,Qa4,h6,f4,a6,Rac1,b5', 'Bxb5,axb5,Qxa8', 'https://lichess.org/training/TSPrc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsPWK', 'Rapid', 'Fragata007', 1685, 'EddyRed', 1676, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bc4,Be6,Bxe6,fxe6,Nc3,Ke7,Bg5+,Nf6,O-O-O,Kf7,f3,Be7,Be3,b6,Nb5,c6,Nc7,Rac8,Na6,Rhd8,Rd2,c5,Rhd1,Rxd2,Bxd2,Rd8,Bc3,Rxd1+,Kxd1,Bd6,g4,h6,a3,Nh7,b4,Ng5,Ke2,g6,bxc5,bxc5,Ba5,Nh3,c4,Nf4+,Ke3,h5,gxh5,Nxh5,Bc7,Bxc7,Nxc7,Ke7,Na6,Kd6,Kf2,Nf4,h4,Nd3+,Kg3,Nb2,Kg4,Nxc4', 'Kg5,Nb2,Kxg6,Nd3,h5', 'https://lichess.org/training/tsPWK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TspXX', 'Blitz', 'MUCADELE', 2374, 'LM Lance5500', 2427, 'c4,e6,g3,Nf6,Bg2,Be7,Nf3,O-O,O-O,b6,b3,Bb7,Bb2,c5,Nc3,d6,Re1,Nbd7,e4,Rc8,d4,cxd4,Nxd4,Ne8,Rc1,a6,f4,Qc7,f5,e5,Nf3,Nc5,g4,Nf6,g5,Nfxe4,Nxe4,Nxe4,f6,Qc5+,Nd4,Bxf6,gxf6,exd4,Bxe4,Bxe4,Rxe4,Rfe8,Qg4,g6,Bxd4', 'Rxe4,Qxe4,Qg5+', 'https://lichess.org/training/TspXX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TSR0Q', 'Blitz', 'voroshylov228', 1867, 'IrshadB767', 1852, 'e4,g6,e5,Bg7,d4,d6,exd6,exd6,Nf3,d5,Bd3,c6,O-O,Nf6,Re1+,Kf8,Bg5,h6,Bh4,Nbd7,Ne5,Qc7,Bg3,Qb6,Nxd7+,Bxd7,Bd6+,Kg8,b3,Qxd4,c3,Qb6,Qf3,Kh7,Re7,Be6,Be5,Ng4,Rxe6,Nxe5,Rxe5,Bxe5', 'Qxf7+,Bg7,Bxg6#', 'https://lichess.org/training/TSR0Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsrcF', 'Rapid', 'Alex_Star', 1688, 'Chesskey_Chessnek', 1837, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,O-O,a3,d6,h3,h6,d3,Nd4,Nxd4,Bxd4,Ne2,Bb6,Kh1,Be6,Bxe6,fxe6,f4,exf4,Nxf4,Qe8,Bd2,e5,Nd5,Nxd5,exd5,Rxf1+,Qxf1,Qf8,Rd1,Qxf1+,Rxf1,Rf8,Rxf8+,Kxf8,g4,Bd4,c3,Bf2,Kg2,Bh4,Kf3,Kf7,Ke4,Kf6,c4,g5,a4,Bg3,d4,exd4,b4,Be5,Bc1,Bf4,Bb2,Be5,Bxd4,Bxd4,Kxd4,Ke7,c5,dxc5+,bxc5,b6,cxb6,axb6,Ke5,Kd7,Kf6', 'Kd6,Kg7,Kxd5', 'https://lichess.org/training/tsrcF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsrqZ', 'Classical', 'oussama410', 1716, 'Togashe', 1754, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bb4+,c3,Bd6,Be2,Ne7,O-O,O-O,Re1,Re8,Nbd2,Bf5,Qb3,Qc8,Nf1,c6,Ne3,Be4,Ng5,Bg6,Bg4,Qc7,Nf3,Nd7,h4,Nf6,Bh3,Nh5,Ng4,Nf5,Nge5,f6,Nxg6,Rxe1+,Nxe1,hxg6,Nf3,Nf4,Bxf5,gxf5,Bxf4,Bxf4,Re1,Kh7,h5,Kh6,g3,Bxg3,fxg3', 'Qxg3+,Kh1,Qxf3+', 'https://lichess.org/training/tsrqZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tSRRo', 'Rapid', 'Rabie123', 1927, 'Beshoy_Haliem', 1874, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,e6,a3,Nf6,Nf3,Be7,e3,O-O,Ng5,h6,h4,Ng4,Qxg4,e5,Qh5,exd4,exd4,Nc6,Bd3,Be6,Be3,Qd7,O-O-O', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/tSRRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TsswI', 'Rapid', 'paintman', 1713, 'SkayBeilinson', 1833, 'e4,d5,Nf3,dxe4,Ng5,e5,Nxe4,Nc6,Bc4,Nf6,Nbc3,Bf5,d3,Nxe4,Nxe4,Bxe4,dxe4,Qxd1+,Kxd1,O-O-O+,Ke1,Nd4,Bb3,Bc5,Be3,Nxb3,axb3,Bxe3,fxe3,f6,Rxa7,Kb8,Ra1,Rd6,Ke2,Rc6,c4,b5,Kd3,Rd8+,Kc3,bxc4,bxc4,Rcd6,Rhe1,Rd3+,Kb4,Rd2,Ra2,Rxg2,Rea1,Kc8', 'Ra8+,Kd7,Rd1+', 'https://lichess.org/training/TsswI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TSsYl', 'Blitz', 'CM NowInChess', 2217, 'stillchino', 2237, 'e4,e5,Nf3,Nf6,Nc3,Bc5,d4,Bb4,Nxe5,Nxe4,Qg4,Nxc3,a3,Ba5,Qxg7,Rf8,Bd2,Qe7,Bc4,d6,Bxf7+,Rxf7,Qxf7+,Qxf7,Nxf7,Kxf7,Bxc3,Bxc3+,bxc3,Nc6,O-O,Bf5,Rab1,b6,f4,Bxc2,Rb2,Bd3,Re1,d5,g4,Be4,g5,Na5,h4,Nc4,Ra2,c5,a4,cxd4,cxd4,Kg6,Rh2,Kf5,h5,Kxf4,Rf1+,Kxg5,Rf7,Rg8,h6,Ne3', 'Rg7+,Bg6,Rxg8', 'https://lichess.org/training/TSsYl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TSTEy', 'Rapid', 'aabbas2020', 2129, 'valguitar', 2176, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,Nc3,d6,Be3,Na5,Bb3,c5,h3,h6,Bd5,Nxd5,Nxd5,Be6,c4,Nc6,a3,f5,Nxe7+,Qxe7,Qc2,fxe4,dxe4,Bxh3,Nh2,Be6,b3,Rf7,f4,exf4,Rxf4,Rxf4,Bxf4,Nd4,Qd3,Rf8,Be3,Nc6,Rd1,Qf6,Rf1,Qe7,Bf4,Nd4,Rf2,Bd7,Qg3,g5', 'Bxd6,Rxf2,Bxe7,Ne2+,Kxf2', 'https://lichess.org/training/TSTEy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TSTF6', 'Rapid', 'eliTi', 2035, 'Andrei-D', 2011, 'd4,c6,Nc3,d5,Bf4,Bf5,Nf3,e6,e3,Nf6,h3,h6,Bd3,Bxd3,Qxd3,Be7,g4,Nbd7,O-O-O,a6,Ne5,c5,dxc5,Nxc5,Qd4,Rc8,f3,b5,g5,hxg5,Bxg5,Qa5,Kb1,b4,Ne2,Nfd7,Bxe7,Kxe7,Nxd7,Kxd7,Qxg7,Rhf8,e4,Na4,exd5,exd5,Nf4,Nb6,Rhe1,Qc5,Re2,Rc6,Red2,Kc7,Nd3,Qd6,Ne5,Qh6,Qg3,Rd6,f4,a5,Qe3,Re8,Qc5+,Kb7,Nxf7,Rc6,Qxa5,Qxf4,Qb5,Qxf7,Rxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/TSTF6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsu0i', 'Rapid', 'alsing', 1726, 'vbajnok', 1789, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bf5,d4,Nf6,Bd2,c6,Bc4,e6,Qe2,Be7,Ne5,Bxc2,Nd5,Qd8,Nxe7,Qxe7,a3,a5,b4,axb4,Bxb4,Qd8,Qxc2,Qxd4,Nxf7', 'Qxa1+,Ke2,Qxh1', 'https://lichess.org/training/tsu0i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tSupj', 'Classical', 'LebedevM', 1748, 'Vadim1994', 1751, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Nc6,c3,Nf6,h3,Bxf3,Bxf3,e5,dxe5,Nxe5,O-O,Nxf3+,Qxf3,Bd6,Re1+,Be7,Bg5,O-O,Nd2,h6,Bh4,Re8,Nb3,Ne4,Bxe7,Rxe7,Rad1,a5,Qh5,Nf6,Qf5,Rxe1+,Rxe1,g6,Qf3,a4,Nc5,Qb6,Nd3,a3,b4,Qc6,Ne5,Qe6,Qd3,Nd7,f4,Re8,Qd1,Qb6+,Kh1,Nxe5,fxe5,Qf2,Re2,Qg3,Qxd5,Qxc3,Qxb7,Qc1+,Kh2,Qf4+,g3,Qc4,Rf2,Rxe5', 'Qb8+,Kh7,Qxe5', 'https://lichess.org/training/tSupj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TSvaW', 'Rapid', 'hmgong', 1671, 'MueveteChile', 1663, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,Qe3,g6,O-O,Bg7,e5,dxe5,Nxe5,Qb6,Qg3,Ne4,Nxe4,Bxe4,c3,Qd6,Bf4,g5,Nc4', 'Qxf4,Qxf4,gxf4', 'https://lichess.org/training/TSvaW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TsVTM', 'Rapid', 'Asanda2', 1667, 'David-Nussbaum', 1675, 'b3,Nf6,g3,g6,Bg2,Bg7,Bb2,O-O,Nf3,Nc6,O-O,d5,d3,e5,e4,d4,c3,b6,cxd4,exd4,Re1,Bb7,e5,Nd7,e6,Nf6,exf7+,Rxf7,Nbd2,Kh8,Ne4,Rb8,Nxf6,Qxf6,Rb1,Ne5,Nxe5', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/TsVTM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TSw5G', 'Rapid', 'Faresjordan90', 1633, 'sigmaphi', 1635, 'e4,e6,d4,b6,c3,Bb7,Bd3,d6,f4,Qh4+,g3,Qd8,Nf3,c5,d5,exd5,Bb5+,Nd7,exd5,Nf6,c4,Be7,O-O,O-O,Nbd2,Re8,b3,a6,Ba4,Rb8,Bb2,Qc7,a3,Ba8,b4,b5,Bc2,bxc4,Nxc4,cxb4,axb4,Qxc4,Bd3,Qxb4,Ba3,Qb6+,Kh1,Nxd5,Qe2,Bf6,Qa2,Ne3,Rfe1,Bxf3+,Kg1,Ng4+,Kf1,Rxe1+,Rxe1,Nc5,Bc4,Ne6,Bxe6,fxe6', 'Qxe6+,Kf8,Bxd6+,Qxd6,Qxd6+', 'https://lichess.org/training/TSw5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TSWso', 'Blitz', 'LM SaintLouisChessClub', 2233, 'Alechess12', 2062, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nf6,Be2,d5,O-O,Bd6,Nb5,Be7,d4,O-O,Ne5,c6,Nc3,Bf5,g4,Bg6,f4,Be4,g5,Nfd7,Nxe4,dxe4,Bc4,Nxe5,fxe5,Bxg5,e6,fxe6', 'Bxe6+,Kh8,Rxf8+,Qxf8,Bxg5', 'https://lichess.org/training/TSWso');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tswws', 'Blitz', 'Artem_Stolyarov', 1686, 'morocooo', 1665, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,c6,d3,Bf5,Bd2,Nf6,Be2,e6,Ne4,Qd8,Nxf6+,Qxf6,Bc3,Qd8,O-O,Nd7,h3,Nf6,Nh2,Be7,Ng4,O-O,f3,Nd5,Bd2,Bc5+,Kh1,Qb6,c4,Ne3,Bxe3,Bxe3,Nxe3,Qxe3,Re1,Rad8,Bf1,Qf2,Qb3,Bxd3,Bxd3,Rd4,Rf1,Qg3,Qc3,Rfd8,Be4,Rd2,f4,R8d3,Qe5,g6,Rg1', 'Qxh3+,gxh3,Rxh3#', 'https://lichess.org/training/Tswws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tsx0U', 'Rapid', 'Doubleforward', 1928, 'RedWolf260100', 2500, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,d5,cxd5,Nxd5,d3,Be6,Be2,h6,a3,Qd7,Qc2,Be7,b4,Nxc3,Qxc3,Bf6,Nd2', 'e4,d4,Nxd4,exd4,Bxd4', 'https://lichess.org/training/Tsx0U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tSyml', 'Bullet', 'Pintu2020', 1625, 'Anurag1975', 1874, 'g4,d5,Bg2,c6,h3,f5,g5,e5,h4,e4,d3,Bd6,dxe4,fxe4,Nc3,g6,Be3,Ne7,Bd4,O-O,Qd2,Nd7,a3,Rf7,O-O-O,Qf8,Nh3,Be5,e3,Bxd4,Qxd4,Nf5,Qd2,Ne5,Nf4,Nc4,Qe2,Nfd6,h5,Rxf4,exf4,Qxf4+,Kb1,Bg4,Qe3,Nxe3,fxe3,Qf2,Rdg1,Bxh5,Bh3,Nc4,Be6+,Kh8,Rf1,Qxe3,Rf7,Qd2,Rhf1,Ne3', 'Rf8+,Rxf8,Rxf8+,Kg7,Rg8#', 'https://lichess.org/training/tSyml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tsys6', 'Blitz', 'LouisLeSaint', 1553, 'Splashbrother30', 1561, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,Bg4,e4,Nb6,Be2,Nc6,Be3,e6,Nc3,Bb4,O-O,O-O,h3,Bh5,Re1,Na5,a3,Bxc3,bxc3,Nbc4,Bxc4,Nxc4,Qd3,Nb2,Qc2,Nc4,Qd3,Bxf3,gxf3,Nxe3,Qxe3,Qh4,Kh2,f5,exf5,Rxf5,Qxe6+,Rf7,Qg4,Qxg4,fxg4,Rxf2+,Kg3,Rc2,Re3,Rc8,Rae1,c5,dxc5,Rxc5,Re8+,Kf7,R8e7+,Kg6', 'R1e6+,Kg5,Rxg7#', 'https://lichess.org/training/tsys6');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 33;
-    }
-
-}
\ No newline at end of file
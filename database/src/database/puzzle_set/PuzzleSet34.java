@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet34 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tt0XW', 'Rapid', 'Nassimou', 1884, 'sunioj', 1857, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,h6,Ne4,Nxe4,Bxe4,Bd7,O-O,Bd6,d4,O-O,Be3,Qc7,g3,Nc4,Bc1,Rab8,b3,Nb6,Bb2,f5,dxe5', 'Bxe5,Bxe5,Qxe5,Bg2,Qxa1', 'https://lichess.org/training/Tt0XW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tT5hX', 'Rapid', 'yakodir', 2394, 'Aniachess', 2326, 'e4,e5,Nc3,Nf6,g3,Bc5,Bg2,O-O,Nge2,d6,O-O,Bg4,h3,Bh5,g4,Bg6,Kh2,Nc6,d3,Nd7,Ng3,Ne7,Na4,c6,Nxc5,Nxc5,Be3,Ne6,Qd2,d5,Qe2,Nf4,Qe1,Nxg2,Kxg2,dxe4,dxe4,Qd7,Rd1,Qe6,b3,a5,Bc5,Rfd8,Rxd8+,Rxd8,Qxa5,Re8,Qc7,Nd5,Qd6,Nf4+,Kh2,Qxd6,Bxd6,f6,Bc5,Rd8,Be3,Ne6,Kg2,b5,Ra1,Nd4,Rd1,Ra8,c3,Nc2,Rd2,Rxa2,Bc5', 'Ne1+,Kf1,Rxd2', 'https://lichess.org/training/tT5hX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tt71q', 'Rapid', 'kangkilido', 1944, 'bivchess', 1947, 'e4,c5,Nc3,Nc6,Nf3,e5,d3,h6,g3,Nf6,Bg2,b6,a3,Bb7,Nd5,d6,c3,Nxd5,exd5,Ne7,c4,Nf5,O-O,Be7,b4,O-O,bxc5,bxc5,Rb1,Rb8,Be3,Nd4,Nxd4,exd4,Bf4,Bg5,Bxg5,Qxg5,f4,Qf5,Be4,Qd7,Qh5,f5,Qf3,fxe4,dxe4,Rbe8,Rfe1,Bc8,f5,Qe7,g4,Qg5,h3,h5,Kh2,hxg4,hxg4,Qh4+,Kg2,g6,Rh1,Qg5,Kf2,Qd2+,Kg3,Qe3,Rbe1,Qxf3+,Kxf3,gxf5,gxf5,Re7,Kf4,Rff7', 'Reg1+,Rg7,f6,Rxe4+,Kxe4', 'https://lichess.org/training/Tt71q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tT7xv', 'Rapid', 'ChopinRapid', 1754, 'rudi-kusaman', 1807, 'Nf3,Nc6,d4,d5,c4,e6,Bg5,Be7,Bxe7,Qxe7,cxd5,exd5,Nc3,Be6,e3,O-O-O,Qa4,Kb8,Bb5,Rd6,Bxc6,Rxc6,Ne5,Ra6,Qb3,f6,Nd3,Nh6,Nc5,Rb6,Qa4,Rd8,Nb5,a6,Nc3,Nf5,b3,Nxd4,exd4', 'Bd7+,Kf1,Bxa4', 'https://lichess.org/training/tT7xv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tT8OC', 'Rapid', 'Leomazakre', 1868, 'aksupreme', 1992, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,Nc6,Bb5,Bg4,O-O,e6,h3,Bh5,Re1,Be7,Qd3,O-O,Ne5,Rc8,Nxc6,bxc6,Ba4,h6,Qg3,Bg6,Bf4,c5,Ne2,c4,c3,Ne4,Qe3,Bh4,Ng3,Qb6,Rab1,Nxg3,fxg3,Bxb1,Rxb1,Be7,Bxh6,gxh6,Qxh6,Qd8,Bc2,f5,Qxe6+,Kg7,Bxf5,Rf6', 'Qxc8,Qxc8,Bxc8', 'https://lichess.org/training/tT8OC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTaLs', 'Rapid', 'Diego7733', 1667, 'dyson', 1719, 'e4,e6,Nf3,c5,Nc3,Nc6,Bb5,a6,Bxc6,bxc6,d3,Nf6,O-O,Qc7,Bg5,Be7,e5,Ng8,Qd2,Bxg5,Qxg5,Kf8,Ne4,h6,Qg3,Qb6,b3,Ne7,Nd6,Nf5,Nxf5,exf5,c4,Bb7,Qf4,g6,Rae1,Qc7,Qe3,Qb6,Nd2,Re8,f4,a5,a4,d5,cxd5,cxd5,Nb1,Qxb3,d4,Qxe3+,Rxe3,c4,Nc3,Kg7,Rb1,Bc6,Nb5,Bxb5,axb5,Ra8,b6,Rhb8,b7,Ra7,e6,Raxb7', 'Rxb7,Rxb7,e7,Rxe7,Rxe7', 'https://lichess.org/training/TTaLs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTbc8', 'Rapid', 'USST', 1685, 'ikshoz3', 1725, 'd4,e6,e4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Bd7,O-O,Nh6,Bxh6,gxh6,Qc1,O-O-O,a3,Kb8,Nbd2,c4,Be2,Ne7,Nh4,Ng6,Ndf3,Be7,Nxg6,hxg6,Rb1,f6,exf6,Bxf6,Qf4+,Qc7,Qxf6,g5,Ne5,Rdf8,Nxd7+,Qxd7,Qe5+,Ka8,Bg4,Re8,Rfe1,Qh7,Bxe6,Qd3,Qxd5,Re7,Qxc4,Qc2,Qd5,Rhe8,Rbc1', 'Rxe6,Qxe6,Rxe6', 'https://lichess.org/training/TTbc8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTbEX', 'Rapid', 'NHorde', 1653, 'amitav-mishra', 1656, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Bc4,Nc6,Nc3,Nxd4,Qxd4,Nf6,Bg5,Be7,O-O-O,c5,Qe3,O-O,h4,a6,Be2,b5,e5,dxe5,Qxe5,Re8,h5,Ng4,Bxg4', 'Bxg5+,Kb1,Rxe5', 'https://lichess.org/training/TTbEX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TtcAi', 'Rapid', 'SheepySheep', 1774, 'Solomon79', 1824, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Ng8,Nf3,d6,Bc4,dxe5,O-O,Nc6,d3,Bg4,h3,Bxf3,Qxf3,Bc5+,Kh1,Nf6,Bd2,O-O,Rae1,Nd4,Qd1,Re8,Ne4,Nxe4,dxe4,c6,c3,Ne6,Bxe6,Rxe6,Bc1,Qxd1,Rxd1,Rg6,Rd7,b6,b4,Rd6,Re7,Re6,Rxe6,fxe6,bxc5,bxc5,Rd1,Kf7,Rd6,Rb8,Rxc6', 'Rb1,Kh2,Rxc1', 'https://lichess.org/training/TtcAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTdb5', 'Blitz', 'Akkiba', 2048, 'maagtablet', 2044, 'Nf3,Nf6,c4,g6,b3,Bg7,Bb2,O-O,g3,c6,Bg2,d5,O-O,a5,Nc3,d4,Na4,b5,cxb5,cxb5,Nxd4,bxa4,Bxa8,Bh3,Re1,Ng4,e3,e5,Nf3,Nd7,Bd5,Nb6,Bc4,Nxc4,bxc4,Qa8,e4,h6,Qxa4,f5,Nh4,fxe4,Re2,e3,fxe3,g5,Ng2,Rf2,Rxf2,Nxf2,Ne1', 'Qh1+,Kxf2,Qf1#', 'https://lichess.org/training/TTdb5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TtDRS', 'Blitz', 'vahid1', 1787, 'egoiste787', 1763, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Nc3,Qf6,Bf1,Bxc3+,Bxc3,Qxc3+,Ke2,d5,Rc1,Qe5,f3,dxe4,Kf2,e3+,Ke1,Qa5+,Ke2,Qxa2+,Rc2,Qe6,Rxc7,Bd7,Rxb7,Nc6,Nh3,Rd8,Nf4,Qc4+,Ke1,Qxf4,Bd3,Bf5,Qc2,Bxd3,Qxc6+,Kf8,Qc5+,Rd6', 'Qc8+,Rd8,Qxd8#', 'https://lichess.org/training/TtDRS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TtEPh', 'Classical', 'hegedabegeda', 1619, 'BalfaKrOOl_FCB', 1692, 'd4,c6,c4,d5,Bf4,Nf6,e3,Nbd7,Nc3,dxc4,Bxc4,b5,Bd3,c5,Bxb5,cxd4,exd4,e6,Bc6,Ba6,Bxa8,Qxa8,Qf3,Bb7,d5,Bb4,Bd2,Bxc3,Bxc3', 'Bxd5,Qg3,Bxg2', 'https://lichess.org/training/TtEPh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ttETQ', 'Classical', 'syukronahmad91', 1668, 'Autolatry', 1690, 'e4,c5,b4,cxb4,Bc4,e6,d4,d5,Bb5+,Bd7,Bxd7+,Qxd7,e5,Nc6,Bg5,h6,Be3,Nge7,Nf3,Nf5,g4,Nxe3,fxe3,Be7,Nbd2,O-O,h4,f5,g5,hxg5,hxg5,g6,Rh6,Kg7,Nh4,Rh8,Rxg6+,Kf7,Rh6', 'Rxh6,gxh6,Bxh4+', 'https://lichess.org/training/ttETQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTEyk', 'Rapid', 'manchur', 1683, 'jrbba1953', 1691, 'e4,c5,Nf3,a6,Bc4,e6,d4,cxd4,Bg5,f6,Nh4,fxg5,Qh5+,g6,Nxg6,hxg6,Qxh8,Kf7,e5,Bg7,Qh7,Qa5+,Nd2,Qxe5+,Kd1,Qf4,h4,Qg4+,f3,Qxg2,Re1,Nc6,Ne4,Qxf3+,Kc1,Qf4+,Kb1,Qxh4', 'Rf1+,Ke7,Qxg7+', 'https://lichess.org/training/TTEyk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TtF42', 'Rapid', 'chrisbow09', 1652, 'maljar1980', 1657, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,a6,Ba4,b5,Bb3,Bg4,h3,Bh5,g4,Bg6,d3,Nf6,a3,h6,Nd5,Be7,Nxe7,Qxe7,O-O,O-O,Be3,Rad8,Qe2,d5,exd5,Nxd5,Bd2,Nf4,Bxf4,exf4,Qxe7,Nxe7,Rfe1,Nc6,Re2,Rfe8,Rae1,Rxe2,Rxe2,Kh7,Nh4,Nd4,Nxg6,Nxb3,Nxf4,Nd4,Re7,g5,Nh5,Nf3+,Kg2,Nh4+,Kg3,Kg6,Rxc7,Rd6,Rc5,Re6,c3,Re2,b3,Re1,Rc6+,Kh7,Nf6+,Kg7,Ne8+,Kf8,Nc7', 'Rg1+,Kh2,Nf3#', 'https://lichess.org/training/TtF42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTfL3', 'Rapid', 'PlatinumEd', 2415, 'tpr', 2263, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,f6,Qh5+,g6,Qh4,Bg7,Ne2,Ne7,f4,a6,Bxc6+,Nxc6,fxe5,fxe5,Qxd8+,Kxd8,O-O,Rf8,Nbc3,Be6,Rxf8+,Bxf8,Rf1,Bg7,Na4,b6,d4,Ke7,dxe5,Nxe5,Nd4,Kd6,Ba3+,Kd7,h3,Re8,Nc3,c5,Nxe6,Rxe6,Nxd5,Kc6,c4,b5,Nf4,Rd6,cxb5+,axb5,Bb2,Rd2,Rf2,Rxf2,Kxf2,Ng4+,hxg4,Bxb2,Kf3,c4,Ke4,Kc5,Ne2,Kb4,bxc4,Kxc4,Nd4,b4,Nb3,Kc3,Kf4,Kc2,Kg5,Bg7,Nd4+,Kb2,Ne6', 'Kxa2,Nxg7,b3', 'https://lichess.org/training/TTfL3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TtGbK', 'Classical', 'baguette789', 1838, 'trying8', 1616, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,e4,Be7,e5,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Qg4,Qb4+,Kd1,O-O,b3,c5,Qxe4,Rd8,Nf3,Qc3,Rc1,Qa5,Ng5,g6,Nf3,Nc6,d5,exd5,cxd5,Bf5,Qc4,b5,Qxc5,Rxd5+,Qxd5,Rd8,Qd6,Rxd6+,exd6,Nd8,Nd4,b4,Nxf5,gxf5,Rc2,Qd5+,Rd2,Qe5,f3,Kf8,d7,Qa1+,Ke2,Qe5+,Kf2,f4,g3', 'Qe3+,Kg2,Qxd2+', 'https://lichess.org/training/TtGbK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTGDL', 'Classical', 'CastroNobre', 1796, 'ShyGuy1993', 1757, 'd4,Nf6,c4,c5,d5,d6,Nc3,e6,e4,exd5,cxd5,g6,Nf3,Bg4,Be2,Bxf3,Bxf3,Bg7,O-O,O-O,Be3,a6,a4,Re8,Qc2,Nbd7,Be2,Qc7,f4,Bh6,g4,Bg7,g5,Nh5,f5,Bd4,Qc1,Bxc3,Qxc3,Rxe4,fxg6,fxg6,Bxh5,gxh5,Rf4,Rae8,Rxe4,Rxe4,Rf1,Rxa4,Kh1,Ne5,Qc2,Rg4,Qf5,Qf7', 'Qc8+,Kg7,Rxf7+', 'https://lichess.org/training/TTGDL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTGSJ', 'Rapid', 'VanUrk', 1768, 'Resh77', 1747, 'e4,d5,exd5,Qxd5,d4,Nf6,Nf3,Nc6,Nc3,Qa5,Qd3,a6,Bd2', 'Nb4,Qc4,Nxc2+,Kd1,Nxa1', 'https://lichess.org/training/TTGSJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TtHax', 'Rapid', 'PawnStormMeDaddy', 1701, 'OsyaPane', 1690, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,O-O,f3,c5,Nge2,cxd4,Nxd4,Nc6,Qd2,Nxd4,Bxd4,Be6,O-O-O,Nd7,Bxg7,Kxg7,h4,h5,Kb1,Rc8,Nd5,Bxd5,exd5,Ne5,f4,Nxc4', 'Qd4+,Kg8,Bxc4', 'https://lichess.org/training/TtHax');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TtIPa', 'Rapid', 'lingtalfi', 1946, 'TheRapidPlayer', 1925, 'e4,c5,Nc3,e6,f4,Nc6,Bb5,Be7,Nf3,Qc7,Bxc6,Qxc6,d3,Nf6,O-O,O-O,Qe1,b6,Ne5,Qc7,Bd2,d5,Qg3,Rd8,Ng4,dxe4,Nxf6+,Bxf6,Nxe4,Bxb2,Rae1,Bb7,Re2,Bxe4,Rxe4,b5,Qh3,c4,f5,Qc5+,Kh1,exf5,Rh4,h6,Rxf5,Qe7,Re4,Qd6,Rf3,cxd3,Rxd3,Qg6,Rg4,Qf6,Rf4,Qg6,Qf3,Rxd3', 'Qxa8+,Kh7,cxd3', 'https://lichess.org/training/TtIPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTipK', 'Rapid', 'YcarohSilva', 1914, 'kybu8984', 1871, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,Nc6,cxd5,exd5,Bd3,Re8,O-O,Ne4,Nxe4', 'dxe4,Bxe4,Bxg5', 'https://lichess.org/training/TTipK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TtJga', 'Rapid', 'Ra-Manu-jan', 1807, 'zouzousar3a', 1795, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nf6,Nc3,a6,Bc4,e6,Qd3,b5,Bb3,Nbd7,Bg5,Nc5,Qe2,Nxb3,axb3,Be7,Rd1,Bb7,e5,Nd5,Bxe7,Qxe7,Nxd5,Bxd5,O-O,dxe5,Nxe5,Qg5,Rxd5,f6,f4,Qh6,Nc6,O-O,Rd7,Rfc8,Qxe6+,Kh8,Rf3,Re8,Re7,Rec8,Qe4,f5,Qd5,Qxc6,Qf7,Qg6,Qd5,Qb6+,Kh1,Rd8,Rfe3', 'Qxe3,Rxe3,Rxd5', 'https://lichess.org/training/TtJga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ttjjS', 'Blitz', 'GualterAmelio', 1977, 'CM kakovski', 2200, 'e4,c6,Nc3,d5,Qe2,dxe4,Nxe4,Nf6,d3,Nxe4,dxe4,e5,g3,Be6,Bg2,Bc5,Nf3,Nd7,O-O,O-O,Rd1,Qb6,c3,Rad8,Bg5,f6,Bd2,Qc7,a4,Nb6,b4,Be7,Be3,Nc4,Bxa7,b6,a5,Qxa7,axb6,Qxb6,Nh4,Rxd1+,Qxd1,Rd8,Qb3,c5,Nf5,Bf8,Qc2,cxb4,cxb4,Qxb4,Ra4,Qb5,Bf1,Bxf5', 'Bxc4+,Kh8,Bxb5', 'https://lichess.org/training/ttjjS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ttJOX', 'Rapid', 'eneasz1', 2001, 'v-v-nech65', 1921, 'e4,e5,Nc3,Nf6,f4,d5,fxe5,Nxe4,Nf3,Bg4,Bd3,Nxc3,dxc3,Bc5,Bf4,O-O,Qd2,Nc6,O-O-O,f6,exf6,Qxf6,Bxc7,Qe7,Qe1,Qxc7,Bxh7+,Kxh7,Qh4+,Kg8,Qxg4,Be3+,Kb1,Rf4', 'Qe6+,Qf7,Qxe3', 'https://lichess.org/training/ttJOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tTJrg', 'Rapid', 'sergiksv', 1914, 'Faresjordan90', 1969, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,d6,Nc3,Nf6,h3,Be7,Bd2,O-O,O-O-O,Re8,f4,g6,g4,a5,g5,Nd7,Nd5,b6,Nxe7+,Qxe7,Bg2,Nc5,e5,Bb7,Bc3,Rab8,Qg3,dxe5,fxe5,Nxe5,Bxb7,Nxb7,h4,c5,h5,b5,hxg6,fxg6,Nh3,Nd6,Rhe1,Ndc4,b3,b4,bxc4,bxc3,Qxc3,Qe6,Rd5', 'Nd3+,cxd3,Qxe1+,Qxe1,Rxe1+', 'https://lichess.org/training/tTJrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tTl7r', 'Rapid', 'Zhizhan', 1781, 'skitzmixv9', 1755, 'c4,Nf6,e3,b6,Nf3,Bb7,Be2,Nc6,Nc3,e6,d3,d6,b3,Ne5,Bb2,Nxf3+,Bxf3,c6,O-O,Be7,Rb1,O-O,Ne4,Qc7,Ng3,c5,e4,a6,a3,b5,Re1,bxc4,bxc4,Nd7,Nh5,Ne5,d4,Nxf3+,Qxf3,cxd4,Bxd4,e5,Be3,g6,Nf6+,Bxf6', 'Qxf6,Qd8,Qxd8,Rfxd8,Rxb7', 'https://lichess.org/training/tTl7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tTMzS', 'Rapid', 'uncertain', 1811, 'Ivanhoe123', 1900, 'd4,e5,dxe5,Nc6,Nf3,Qe7,g3,Nxe5,Bg2,Nxf3+,Bxf3,Nf6,O-O,c6,c4,Qc5,Na3,d5,Be3,Qa5,cxd5,cxd5,Qd3,Bxa3,bxa3,Be6,Bg5,Nd7,Bd2,Qd8,Bb4,a5,Bd6,Nf6,Be5,Qe7,Rfd1,Rd8,Rac1,O-O,Rc7,Rd7,Rdc1,Rfd8,Qb5,Qxa3,Qxb7', 'Qxc1+,Rxc1,Rxb7', 'https://lichess.org/training/tTMzS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ttn58', 'Rapid', 'Caiqueff', 1819, 'Rastiim97', 1808, 'e4,e5,Nf3,Nf6,Nc3,d6,h3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe3,Be6,e5,Nd5,Nxd5,Bxd5,exd6+,Kd7,Qxc5,Bc6,Bb5', 'Qa5+,b4,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/ttn58');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTn82', 'Rapid', 'lazarus747', 1719, 'YamenD4', 1669, 'c3,d5,Qa4+,c6,d3,b5,Qc2,e5,a4,a6,Be3,Be6,Nf3,Nd7,Nbd2,Ngf6,h3,Be7,g3,O-O,Bg5,Re8,h4,Ng4,Bh3,Bxg5,Bxg4,Bxg4,hxg5,Bxf3,Nxf3,e4,dxe4,dxe4,Nd4,c5,Nc6,Qxg5,e3,Qf6,axb5,axb5,Rxa8,Rxa8,Qxe4,Ra1+,Ke2,Rxh1,Qe8+,Nf8,Ne7+,Qxe7,Qxe7,Rb1,Qxc5,Rxb2+,Kf3,h6,Qa3,Rc2,Qb3,Rd2,Qxb5,Ng6,c4,Kh7,c5,Rd5,Qc6', 'Ne5+,Ke4,Nxc6', 'https://lichess.org/training/TTn82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tto6c', 'Rapid', 'gelany2003', 1860, 'sasha1972', 1843, 'c4,e5,g3,Nf6,Bg2,d5,cxd5,Nxd5,Nc3,Nxc3,bxc3,Bc5,Rb1,Qf6,e3,O-O,d4,exd4,cxd4,Bb6,Ba3,Rd8,Ne2,Ba5+,Bb4,Bxb4+,Rxb4,c5,Rxb7,Nc6,Rc7,Bd7,Qa4,Rac8,Rxc8,Rxc8,Bxc6,Bxc6,Qa6,Rd8,O-O', 'Qf3,Qxc6,Qxc6', 'https://lichess.org/training/Tto6c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tto8D', 'Blitz', 'WFM dishearten', 2327, 'braunegefahr', 2000, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,d4,d6,a4,b4,a5,O-O,h3,Nxe4,Bd5,Nxf2,Rxf2,Bb7,dxe5,dxe5,Rd2,Qe8,Nxe5', 'Bc5+,Kh1,Qxe5', 'https://lichess.org/training/tto8D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tTOep', 'Classical', 'TraceInHistory', 1827, 'billytechno', 1948, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bh4,c5,a3,Bxc3+,bxc3,cxd4,cxd4,d5,e3,dxc4,Bxf6,Qxf6,Bxc4,O-O,Nf3,Nc6,O-O,Bd7,Rb1,b6,d5,Na5,Ba2,exd5,Qxd5,Be6,Qd2,Rfd8,Qb2,Qxb2,Rxb2,Bxa2,Rxa2,Rd3,Ne5,Rd5,f4,Rad8,Rc1,f6,Nf3,Rd1+,Rxd1,Rxd1+,Kf2,Nc4,Ke2,Rb1,Nd2,Nxd2,Kxd2,Rg1,Kd3,Kf7,a4,Rb1,a5,g5,fxg5,hxg5,axb6,axb6,Kc2,Rb5,Kd3,Ke6,g3,g4,Ke4,f5+,Kf4,Kf6,e4,Rb4,Re2,fxe4,Kxg4,Ke5,Kg5,Kd4,h4,Kd3,Re1,Kd2,Ra1', 'e3', 'https://lichess.org/training/tTOep');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tTorg', 'Rapid', 'Iambadplayer1', 1651, 'Grigorinato', 1634, 'e4,d5,e5,Nc6,d4,Bf5,Bb5,e6,Bxc6+,bxc6,c3,c5,Ne2,g6,O-O,c4,b3,cxb3,axb3,Bg7,h3,Ne7,g4,Be4,f4,Nc6,Ng3,Qh4,Kh2,h5,Nxe4,dxe4,Kg2,hxg4,Qxg4,Qe7,Ba3,Qd7,Nd2,Qd5,Kg3,e3,Nf3,Qxb3,Rfb1,Qxc3', 'Rc1,Qb3,Rxc6', 'https://lichess.org/training/tTorg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TtoXd', 'Rapid', 'Briz008', 1960, 'ppflooleon', 1909, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,g6,Be2,Bg7,f3,d5,exd5,Nxd5,Nxd5,Qxd5,Qd2,Nxd4,O-O-O,Nxe2+,Qxe2,Qc6,Bg5,f6,Bf4,e5,Be3,O-O,g4,f5,h3,f4,Bd2,Qb6,Bc3,Re8,h4,Be6,g5,Bf5,h5,Rad8,hxg6,Bxg6,a3,Rxd1+,Rxd1,e4,Bxg7,Kxg7,fxe4,Bxe4,Qc4,Qe3+,Kb1,Qb6', 'Rd7+,Kg6,Qf7+,Kxg5,Qxe8', 'https://lichess.org/training/TtoXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tTpP9', 'Rapid', 'tapescrew', 1975, 'Kreuzkette', 1970, 'd4,d5,c4,e6,e3,Nf6,Nc3,Be7,Nf3,b6,a3,c5,Bd3,O-O,O-O,Ba6,cxd5,Bxd3,Qxd3,exd5,dxc5,bxc5,Rd1,c4,Qf5,Qc7,Nxd5,Nxd5,Qxd5', 'Rd8,Qxd8+,Bxd8', 'https://lichess.org/training/tTpP9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tTqKQ', 'Blitz', 'ljorge60', 2121, 'karpinchov', 2118, 'd4,d5,c4,e6,Nc3,Be7,Nf3,Nf6,Bg5,O-O,e3,h6,Bh4,Ne4,Bxe7,Qxe7,Rc1,Nxc3,Rxc3,c6,Bd3,Nd7,O-O,e5,dxe5,dxc4,Bxc4,Nxe5,Nxe5,Qxe5,f4,Qe7,e4,Qxe4,Bd3,Qb4,Qc2,Be6,f5,Bd5,f6,Qg4,fxg7,Rfe8', 'Bh7+,Kxg7,Rg3,Qxg3,hxg3', 'https://lichess.org/training/tTqKQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTqu1', 'Rapid', 'NohcohB', 1663, 'RodrigoCloud', 1688, 'e4,c5,a3,d6,c3,Qa5,b4,cxb4,cxb4,Qe5,Nc3,d5,d4,Qc7,Bb2,dxe4,Nxe4,Bf5,Bd3,Bxe4,Bxe4,Nf6,Bd3,Nc6,Rc1,Qd6,Nf3,Rd8,Bb5,Qd5,Bc4,Qd6,O-O,e6,d5,exd5,Re1+,Be7,Bb5,O-O,Ba4,Ng4,Bxc6,bxc6,Qd4,Nf6,Nh4,g6,Re3,a6,Rce1,Rfe8,Nf5,gxf5,Rg3+,Kf8,Qh4,Ng4,Qxh7,Qg6', 'Qh8+,Qg8,Bg7#', 'https://lichess.org/training/TTqu1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ttRIN', 'Rapid', 'mehmet9527', 1779, 'reshuaggarwal', 1703, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,Nbd7,e3,c5,Be2,b6,Ne5,Nxe5,dxe5,Ne4,Bxe7,Qxe7,Nxe4,dxe4,O-O,O-O,Qd6,Qg5,Rad1,Ba6,f4,exf3,Rxf3,Bxc4,Bxc4,Rad8,Qxd8,Rxd8,Rdf1,Rd2,g3,Qh6,h4,Rxb2,Rd1,g5,Rd8+,Kg7,Rd7,gxh4', 'Rdxf7+,Kh8,Rf8+,Qxf8,Rxf8+', 'https://lichess.org/training/ttRIN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ttRoO', 'Rapid', 'al87', 1737, 'kalosha30', 1754, 'd4,d5,e3,Bf5,c4,e6,c5,b6,b4,Qd7,Nf3,a6,Ne5,Qd8,Qa4+,b5,Bxb5+,axb5,Qxa8,f6,Nc6,Nxc6,Qxc6+,Kf7,Qxb5,Nh6,O-O,Be7,f4,Rf8,Nc3,Kg8,Qe2,Qb8,a3,Bg4,Qf2,Bf5,Qg3,Qe8,a4,Qh5,a5,Rb8,b5,Bd3,Re1,f5,b6,cxb6,cxb6,Bh4,Qh3,Bf2+,Kxf2,Ng4+,Kg3,Qg6,Kf3,Be4+,Ke2,Rc8,Bd2,Qe8,b7,Rxc3,Reb1,Bxb1,Bxc3,Qb5+,Kd2', 'Qd3+,Ke1,Qxc3+', 'https://lichess.org/training/ttRoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tTsKs', 'Rapid', 'kpalfa', 1822, 'Leozin_AN', 1823, 'e4,d5,exd5,Nf6,Bc4,Nxd5,Qf3,e6,Ne2,Nc6,a3,Ne5,Qb3,Nxc4,Qxc4,Bd6,O-O,O-O,d4,Nb6,Qd3,Re8,c4,c5,dxc5', 'Bxh2+,Kxh2,Qxd3', 'https://lichess.org/training/tTsKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tTt7p', 'Blitz', 'connales21', 1575, 'meowmugil', 1587, 'c4,e6,d4,d5,Nf3,c5,e3,Nc6,Nc3,Nge7,cxd5,exd5,Bb5,Bg4,O-O,Nf5,h3,Bxh3,Ne5,Qg5,Qf3,Nh4,Bxc6+,bxc6,Qxf7+,Kd8,Nxc6+,Kc8,Qe8+,Kb7,Na5+,Kb6,Na4+,Kxa5', 'Bd2+,Ka6,Qc6#', 'https://lichess.org/training/tTt7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TTWed', 'Blitz', 'Jonfly', 2041, 'Quazet', 1985, 'd4,d5,Nf3,Nf6,e3,Bf5,Bd3,Bxd3,cxd3,e6,Nc3,Nbd7,O-O,c5,Ne5,Be7,f4,O-O,Qf3,cxd4,exd4,a6,a4,b6,b3,Qb8,Ba3,Bxa3,Rxa3,Qb7,b4,b5,a5,Rac8,g4,Nxe5,dxe5,Nd7,Ne2,Rc2,Nd4,Rc7,Qg3,Rfc8,Kh1,Rc1,Ra1,Rxa1,Rxa1,h6,f5,Nf8,fxe6,Nxe6,Nxe6,fxe6,d4,Qc7,Rf1,Rf8,Rxf8+,Kxf8,Qf4+,Qf7,Qxf7+,Kxf7,Kg2,g5,Kg3,Kg6,h4,h5,Kh3', 'hxg4+,Kxg4,gxh4,Kxh4,Kf5,Kh5,Ke4,Kg6,Kxd4', 'https://lichess.org/training/TTWed');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tTzDn', 'Blitz', 'IM qcontrol', 2519, 'SpanishFlash', 2304, 'c4,Nf6,g3,g6,Bg2,d5,cxd5,Nxd5,Nc3,Nxc3,bxc3,Bg7,Rb1,c6,Nf3,O-O,O-O,e5,d3,f5,Qb3+,Qd5,c4,Qd8,c5+,Qd5,Nd2,Qxb3,Nxb3,Na6,Na5,Rb8,Bd2,Rd8,Rfc1,Bf8,Bc3,Bg7,Nc4,Nxc5,Bxe5,Bxe5,Nxe5,Nd7,Nc4,a6,Nd6,Ne5,Nxc8,Rdxc8,f4,Ng4,Bf3,Ne3,Kf2,Ng4+,Bxg4,fxg4,e4,Kf7,Ke3,b6,d4,Ke7,Rb3,Kd6,Rbc3,a5,d5,c5,a4,b5,axb5,Rxb5,Rd1,a4,e5+,Kd7,d6,Rb4,Rd5,Rb3,Rdd3,c4,Rxb3,cxb3,Rd4,a3,Ra4,b2,Ra7+,Kd8,e6,b1=Q', 'e7+,Ke8,d7+,Kf7,dxc8=Q', 'https://lichess.org/training/tTzDn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tU1hS', 'Rapid', 'Laxman_Lakhan', 1849, 'Mohamad1Hafez', 1922, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nc3,Bf5,Nf3,e6,d4,Qa5,Bd3,Bg4,h3,Bh5,O-O,Nxd4,g4,Nxf3+,Qxf3,Bg6,Bxg6,hxg6,Qxb7,Rd8,Kg2,Bd6,Qc6+,Ke7,Bg5,Qe5,Bxf6+,gxf6,f4,Qc5,Qxc5,Bxc5,f5,Rd2+,Kg3,gxf5,gxf5,Rg8+,Kf4,e5+,Ke4,Rg3,Rf3,Rxf3,Kxf3,Rxb2,Nd5+,Kd6,Nxf6,Rf2+,Kg4,Rf4+,Kg5,Be3,Kh5,Rxc4,Rd1+,Ke7', 'Nd5+,Ke8,Nxe3', 'https://lichess.org/training/tU1hS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TU1YU', 'Blitz', 'The_Onion_Knight', 1899, 'mutugi', 1891, 'e4,e6,c4,d5,cxd5,exd5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,Bd6,Bb5+,c6,Bc4,O-O,O-O,Re8,Ng5,Rf8,Qf3,h6,Nge4,Nxe4,Nxe4,Be6,Bd3,Bd5,Qh3,Re8,Nxd6,Qxd6,g3,Nd7,Bf4,Qf6,Qxd7,Qxd4,Bc2,Re2,Rac1,Rae8,Be3,R2xe3,fxe3,Qxe3+,Rf2,Qxc1+,Rf1,Qe3+,Rf2,Re6', 'Qxf7+,Kh8,Qf8#', 'https://lichess.org/training/TU1YU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tu4db', 'Rapid', 'Viktor1649', 1682, 'Chelyabi27', 1880, 'c4,Nf6,Nc3,e5,a3,d5,cxd5,Nxd5,Nxd5,Qxd5,d3,Bc5,h3,Nc6,e4,Qd6,Nf3,Be6,Be2,f6,O-O,O-O-O,b4,Bb6,Be3,Nd4,Nxd4,Bxd4,Bxd4,Qxd4,Rc1,Kb8,Qd2,Rd6,Rc3,Qxe4,Bf3,Qd4,Rfc1,Rc8,b5,Bf5,Qe3,Qxe3,fxe3,Rxd3,Kf2,Rxc3,Rxc3,Rd8,a4,Rd2+,Kg3,g5,e4,Bg6,a5,h5,b6,axb6,axb6,c6,Kh2,Bf7,Re3,Kc8,Ra3,Ra2,Rd3,Rb2,Rd6,Rxb6,Rxf6,Be8,Rf5,g4,hxg4,hxg4,Bxg4,Bd7', 'Rf8+,Kc7,Rf7', 'https://lichess.org/training/Tu4db');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tU6U9', 'Rapid', 'jrvdwjr', 1764, 'Marillion65', 1849, 'd4,g6,e4,Bg7,Nf3,d6,Bc4,b6,O-O,Bb7,Nc3,Nf6,Re1,Kf8,Bg5,Nbd7,h4,h6,Bf4,Nh5,Bh2,c5,Bd5,Qc7,Nb5,Qb8,Nxd6,Bxd5,exd5,Qd8,Ne5,exd6,Nxg6+,fxg6,Re6,Nhf6,Bxd6+,Kg8,Qf3,Kh7,Be7,Qc7,d6,Qc8,Qd3,Rf8,h5,Qe8,Rae1,Nxh5', 'Bxf8,Qxe6,Rxe6', 'https://lichess.org/training/tU6U9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tubqi', 'Rapid', 'bhskrupdhyy2009', 1777, 'Xamian', 1798, 'd4,f5,Nc3,Nf6,e4,fxe4,Bg5,d5,Be2,g6,Qd2,c6,f3,exf3,Nxf3,Bg4,Ne5,Bxe2,Qxe2,Bg7,O-O,O-O,Qd2,Nbd7,Nxd7,Qxd7,Bh6,Ng4,Bxg7,Kxg7,Qg5,h6,Qh4,Ne3,Rxf8,Rxf8,Re1,Qf5', 'Qxe7+,Rf7,Qxe3', 'https://lichess.org/training/Tubqi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TUCf6', 'Rapid', 'Enderworld', 1636, 'Bashkatov', 1622, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,Nf6,d3,h6,Be3,a6,Ba4,Qe7,Nc3,Bc5,a3,d6,h3,Be6,b4,Bd4,Bxc6+,bxc6,Bxd4,exd4,Nxd4,c5,Nf5,Bxf5,exf5,O-O,Re1,Qd7,Qf3,cxb4,axb4,Rfe8,Rxe8+,Qxe8,Nd5,Nxd5,Qxd5,Rc8,Qe4,Qb5,Kh2,Re8,Qg4', 'Qe5+,Qg3,Qxa1', 'https://lichess.org/training/TUCf6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TUciL', 'Rapid', 'marcolom', 1745, 'ivanadoncic', 1608, 'd4,d5,Nf3,Nc6,c4,Nf6,cxd5,Qxd5,Nc3,Qd8,e4,Bg4,d5,Bxf3,Qxf3,Ne5,Qd1,a6,Be2,e6,dxe6,Qxd1+,Bxd1,fxe6,O-O,O-O-O,Bc2,h6,a3,g5,f4,gxf4,Bxf4,Ng6,Bxc7,Kxc7,Rxf6,Nh4,g3,Rg8,Rd1,Bc5+,Kf1,Rdf8,Rxf8,Rxf8+,Ke2,Ng2,Rf1', 'Rxf1,Kxf1,Ne3+,Ke2,Nxc2', 'https://lichess.org/training/TUciL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUCNd', 'Rapid', 'for__fun', 1789, 'MeinHerz12', 1848, 'e4,e6,d4,d5,e5,c5,c3,Nc6,f4,Qb6,Nf3,Bd7,Be2,cxd4,cxd4,Bb4+,Nc3,Nge7,O-O,Nf5,a3,Be7,Kh1,Ncxd4,Nxd4,Qxd4,Nb5,Qb6,a4,O-O,g4,Ne3,Bxe3,Qxe3,f5,Qxe5,Bd3,a6,Nc3,Bd6,Qc2,Rac8,Rae1,Qd4,Qd2,Bc6,fxe6,fxe6', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/tUCNd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUCxo', 'Rapid', 'lurtrester', 1951, 'Josue-Deepmind', 1944, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Bc5,c3,b5,Bb3,O-O,Bg5,h6,Bh4,Re8,O-O,d6,d4,Ba7,a4,exd4,cxd4,Rxe4,Nc3,Rf4,Nd5,Rxh4,Nxh4,Nxd4,Nxf6+,Qxf6,Nf3,Bg4,Bd5,c6,h3,Bxh3,Bxc6,Nxc6,gxh3,b4,Qd5,Rc8,Rac1,Bc5,Nd2,Ne7,Qf3,Qg5+,Qg4,Qxd2,Rfd1,Qxf2+,Kh1,Rf8,Rg1,Ng6,Rgf1,Qxb2,Rce1,Ne5,Qe4,Qd4,Qb7,Qh4,Qg2,b3,Re4,Qh5,Ref4,Ng6,Rf5,Qh4,Kh2,Qe7,Qd5,b2,Qb3,Bd4,R5f3,Qe2+,Kh1,Be5,R3f2,Qh5,Rxf7,b1=Q', 'Rxf8+,Kh7,Qg8#', 'https://lichess.org/training/tUCxo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tuDJ1', 'Rapid', 'Zhdan', 1662, 'pobler', 1876, 'Nf3,d5,c4,dxc4,e3,Be6,Na3,a6,Bxc4,Bxc4,Nxc4,e6,d4,Nf6,b3,Nc6,Bb2,Bb4+,Ncd2,Ne4,O-O,Nxd2,Nxd2,O-O,Ne4,Qd5,Qg4', 'f5,Nf6+,Rxf6', 'https://lichess.org/training/tuDJ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TUDPL', 'Rapid', 'NM fettywap1738', 2285, 'ivanoff23', 1887, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Nc6,Nf3,Bg4,Be2,e6,O-O,a6,Ne4,f5,Bg5,Be7,Bxe7,Qxe7,Nc5,b6,Nxe6,Qxe6,Re1,O-O,c4,Nf6,d5,Qd6,dxc6,Qxc6,Ne5,Qc5,Bxg4,fxg4,b4,Qe7,Nxg4,Qxb4,Nxf6+,Rxf6', 'Qd5+,Rf7,Qxa8+', 'https://lichess.org/training/TUDPL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TudWZ', 'Rapid', 'cloud49', 1942, 'opvish19', 1946, 'd4,d5,e3,Nc6,f4,f6,Nf3,Bg4,Bd3,e5,fxe5,fxe5,dxe5,Nxe5,Be2,Bd6,O-O,h5,Nxe5,Bxe5,Bxg4,hxg4,g3,Qd6,Qxg4,Nf6,Qg6+,Kd7,Qxg7+,Kc6,b4,Rag8,b5+,Kxb5,a4+,Ka6,Qf7,Bxa1,c3,Rf8,Qg6,Ne4,Qg4,Rhg8', 'Qe2+,Ka5,Qb5#', 'https://lichess.org/training/TudWZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TueoX', 'Rapid', 'JAVIERDASOL', 1778, 'Mohamed_Abdeldaiem', 1702, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,Nc6,e4,dxe4,Nxe4,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Nf3,Bg4,Bb5,O-O,O-O,Nxd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/TueoX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TUFM7', 'Blitz', 'Dedeq', 2166, 'CM zim36', 2373, 'd4,Nf6,c4,e6,Nf3,b6,g3,Ba6,b3,Bb4+,Bd2,Be7,Bg2,Bb7,O-O,O-O,Nc3,d5,cxd5,exd5,Bf4,Nbd7,Rc1,a6,Ne5,c5,Nxd7,Qxd7,dxc5,bxc5,e3,Rac8,h3,Rfd8,g4,d4,exd4,Bxg2,Kxg2,cxd4,Ne2,Qd5+,f3,Rxc1,Qxc1,d3,Ng3,Bb4,Bd2,Bxd2,Qxd2,Rc8,Rc1,Rxc1,Qxc1,h6,Qd2,Qd4,Nf1,Nd5,h4,Nf4+,Kh2,g5,Qe3,Qb2+,Nd2,Qc1,Qe8+,Kg7,Qe5+,Kf8,Qh8+,Ke7,Qe5+,Ne6,Ne4,Qc2+,Kg3,gxh4+,Kxh4,Qc6,Qf6+,Ke8,Qh8+,Kd7,Nf6+,Kc7,Qxh6,Qd6,Kh3,Qd8,Qh7,d2,Qxf7+,Kb8,Nd7+,Ka8,Qxe6,d1=Q', 'Qxa6#', 'https://lichess.org/training/TUFM7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUFZO', 'Blitz', 'FM ald2', 2420, 'IM DrMelekess', 2742, 'Nf3,d5,d4,c6,c4,Nf6,cxd5,cxd5,Nc3,g6,Bf4,Bg7,e3,O-O,Be2,Nc6,h3,Bf5,O-O,Rc8,Bb5,a6,Bxc6,Rxc6,Be5,Rc8,Rc1,Ne4,Nxe4,Bxe4,Bxg7,Kxg7,Nd2,Bf5,Qb3,b5,Qb4,Qd7,Nb3,Rc4,Qa5,Ra4,Qc3,Rc4,Nc5', 'Rxc3,Nxd7,Rxc1,Rxc1,Bxd7', 'https://lichess.org/training/tUFZO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUgzE', 'Blitz', 'IM Karttunen', 2566, 'harshheaven', 2301, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nd4,Nxd4,Bxd4,c3,Bb6,d4,c6,Ba4,d6,f4,Nf6,fxe5,dxe5,Bg5,exd4,Kh1,dxc3,Qc2,cxb2,Qxb2,Qd4,Nc3,Nxe4,Rae1,f5,Bb3,Ba5,Nxe4,Qxb2,Nc5+,Bxe1,Rxe1+,Kf8', 'Be7+,Ke8,Bf6+', 'https://lichess.org/training/tUgzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUhAK', 'Blitz', 'LuckySwimmer', 1931, 'melracelis', 1872, 'd4,c6,Bf4,d5,Nf3,Nd7,e3,g6,c4,Bg7,Nbd2,Nh6,Bd3,O-O,O-O,f6,h3,Nf7,Rc1,e5,dxe5,fxe5,cxd5,exf4,dxc6,bxc6,exf4,Bb7,Nc4,Nb6,Qb3,Nd6,Na5+,Kh8,Rfd1,Rxf4,Nxb7,Nxb7,Bxg6,Qf6,Bh5,c5,Rd2,Rf8,Rcd1,Rb4,Qc3,Nc4,Qxf6,Bxf6,Rd7,Nxb2,R1d2,c4,a3,Rb6,Nh4,c3,Rc2,Bxh4,Rxc3,Bxf2+,Kh1,Na4,Rcc7,Rff6', 'Rc8+,Nd8,Rcxd8+,Rf8,Rxf8#', 'https://lichess.org/training/tUhAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TuHUT', 'Rapid', 'MrChess97', 2017, 'zeweeer', 2141, 'e4,e6,d4,b6,Nf3,Bb7,Nc3,Bb4,Bd3,Nf6,e5,Ne4,Bxe4,Bxe4,O-O,Bxc3,bxc3,Bb7,c4,Qe7,a4,Nc6,d5,exd5,cxd5,Na5,d6,Qe6,Ng5,Qg6,f4,h6', 'f5,Qxg5,Bxg5', 'https://lichess.org/training/TuHUT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TUIw6', 'Blitz', 'usuariodexadrez', 1722, 'yeahhans', 1738, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,e6,Be3,Nf6,f3,Be7,Qd2,b5,O-O-O,Bb7,a3,O-O,Be2,Qc7,g4,Nc6,h4,Nxd4,Bxd4,Rad8,h5,Nd7,g5,d5,exd5,Bxd5,g6,h6,Kb1,fxg6,hxg6,Bxf3,Bxf3,Rxf3,Rxh6,gxh6,Qxh6,Nf6,Bxf6,Bxf6,Rxd8+,Qxd8', 'Qh7+,Kf8,Qf7#', 'https://lichess.org/training/TUIw6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tuksf', 'Blitz', 'jonasjo', 1680, 'jomsviking29', 1876, 'e4,e6,d4,d5,exd5,exd5,Nc3,c6,Be2,Bd6,Nf3,Nf6,O-O,O-O,Ne5,Re8,Bf4,Be6,Bf3,h6,Re1,Qe7,Ne2,Nbd7,Nxd7,Bxd7,Ng3', 'Qxe1+,Qxe1,Rxe1+,Rxe1,Bxf4', 'https://lichess.org/training/tuksf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tULHN', 'Rapid', 'frodberserk', 1621, 'raki52', 1606, 'e4,g6,d4,Bg7,Nf3,e6,Bc4,d5,Bg5,f6,exd5,exd5,Qe2+,Ne7,Bxd5,Qxd5,Nc3,Qe6,Ne5,fxg5,O-O,Bxe5,dxe5,Nbc6,Rad1,Bd7,Qb5,O-O-O,Na4,Qxe5,Nc5,b6', 'Qa6+,Kb8,Qb7#', 'https://lichess.org/training/tULHN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUlSm', 'Blitz', 'Anguissola', 1821, 'vanuvanuma', 1822, 'e4,c5,Nf3,e6,Bc4,Nc6,O-O,Nf6,e5,Nd5,Bxd5,exd5,c3,Be7,d4,c4,Nbd2,O-O,b3,d6,bxc4,dxc4,Nxc4,dxe5,dxe5,Qxd1,Rxd1,Bg4,Bf4,Bc5,Rd3,Rae8,h3,Bf5,Rd5,Be4,Rxc5,Bxf3,gxf3,Re6,Rd1,Rg6+,Kh2,b6,Rcd5,Ne7,Rd7,Nf5,Rxa7,b5,Nd6,Nh4,Rg1', 'Nxf3+,Kh1,Rxg1#', 'https://lichess.org/training/tUlSm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tulTz', 'Rapid', 'SergeyGylyaev', 1874, 'bonzac', 1955, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Bxc6,bxc6,e5,Nd5,O-O,g6,d3,Bg7,Re1,O-O,Bg5,h6,Bd2,f6,c4,Nc7,Bc3,d6,Nh4,Kh7,Qf3,fxe5,Qg3,Qe8,Nd2,Ne6,Ne4,Qf7,Re3,Nf4,Rae1,Qe6,Rf3,Bd7,b4,Nh5,Qh3,Qxh3,gxh3,Rxf3,Nxf3,Nf4,bxc5,Nxd3,Rd1,Nf4,cxd6,exd6,Rxd6,Bxh3,Bxe5,Ne2+,Kh1,Bxe5,Nxe5,Re8', 'Nf6+,Kg7,Nxe8+', 'https://lichess.org/training/tulTz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TuNVt', 'Rapid', 'Vanbasten1988', 1673, 'ViktorTsoy', 1608, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Bxc6,Nxc6,d4,d6,h3,Be6,dxe5,dxe5,a3,Bc5,Nc3,O-O,Bg5,f6,Bh4,Nd4,Nxe5,g5,Bg3,fxe5,Bxe5,Qd7,Ne2,Nf3+,gxf3,Rxf3,Qxd7,Bxd7,Rad1,Bxh3,Nd4,Bxf1,Nxf3,Be2,Rd7', 'Bxf3,Rg7+,Kf8', 'https://lichess.org/training/TuNVt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tuobp', 'Rapid', 'benehsv', 1608, 'dmcrt', 1752, 'e4,c6,Nf3,d5,Nc3,Bg4,d4,e6,h3,Bh5,Be3,Nf6,e5,Nfd7,Qd2,a6,O-O-O,Bxf3,gxf3,c5,dxc5,Nxe5,Bg2,Qc7,Bf4,Bxc5,Rhe1,Bd6,Nxd5,exd5,Qxd5,O-O,Bxe5,Bxe5,Rxe5,Nc6,Rg5,Nb4,Qb3,Rac8,c3', 'Qf4+,Kb1,Qxg5', 'https://lichess.org/training/tuobp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUoc4', 'Rapid', 'lifeinchess', 1779, 'Seaia', 1895, 'e4,e5,Nc3,Bc5,Bc4,d6,Nge2,Be6,Bxe6,fxe6,d4,exd4,Nxd4,Qf6,Be3,Nc6,Nxc6,Bxe3,fxe3,bxc6,Qf3,Ne7,Qxf6,gxf6,O-O,Kf7,Ne2,e5,c4,d5,cxd5,cxd5,exd5,Nxd5,Rac1,Rac8,e4,Nb6,b3,c5,Nc3,c4,b4,Rhd8,Rfd1,Ke6,Rxd8,Rxd8,a4,Rd3,a5,Nc8,b5,Nd6,b6,axb6,axb6,Kd7,Na4,Rb3', 'Nc5+,Kc6,Nxb3', 'https://lichess.org/training/tUoc4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUoxA', 'Rapid', 'BryceRogers', 1785, 'Rasil7', 1977, 'd4,d5,Nf3,Nf6,Bf4,e6,h3,Bd6,Be5,O-O,e3,c6,Bd3,Bxe5,Nxe5,g6,O-O,Kg7,Nd2,Nbd7,f4,c5,c3,Qc7,Ndf3,c4,Bc2,b5,g4,Bb7,g5,Ne4,Nd2,Ng3,Rf3,Ne4,Nxe4,dxe4,Rg3,f6,gxf6+,Rxf6,Qg4,Rg8,h4,Kh8,h5,Qd8,hxg6,Nxe5', 'g7+,Rxg7,Qxg7#', 'https://lichess.org/training/tUoxA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUQjo', 'Rapid', 'ozerold-bjksatranc', 1784, 'VLVeselovskiy', 1940, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Bg4,h3,Bh5,d3,e6,a3,c6,Bd2,Qc7,Qe2,Bd6,O-O-O,O-O,g4,Bg6,Rde1,b5,Ba2,b4,axb4,Bxb4,Kb1,Bxc3,Bxc3,Nd5,Be5,Qb7,h4,h6,h5,Bh7,g5,hxg5,Nxg5,Nd7,Nxh7,Nxe5,Nxf8,Nc3+,Kc1,Nxe2+,Rxe2,Ng4,f3,Nf6,Nxe6,fxe6,Bxe6+,Kf8,h6,gxh6,Rxh6,Kg7,Rh3,Rh8', 'Rg2+,Ng4,Rxg4+', 'https://lichess.org/training/tUQjo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TURTY', 'Rapid', 'ShapeTheFuture', 1889, 'Samsunlu5571', 1910, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,f5,d4,fxe4,dxc5,exf3,Qxf3,Nf6,O-O,d5,cxd6,Qxd6,Bg5,Bg4,Qg3,Bh5,Qh3,Bg4,Qh4,O-O-O', 'Bxf6,gxf6,Qxg4+', 'https://lichess.org/training/TURTY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TuRVg', 'Rapid', 'strelok_19', 1693, 'svguildsp', 1761, 'e4,e5,f4,exf4,Nf3,d6,Bc4,h6,O-O,g5,d4,Nc6,Nc3,Bg7,a3,Bg4,h3,Bh5,g4,fxg3,Kg2,Nxd4,Bxf7+,Bxf7,Nxd4,Ne7,Rxf7,Bxd4,Qh5,Kd7,Qg4+,Kc6,Qe6,b6,Rxe7,Kb7,Qd5+,Kb8,Qxd4,Qxe7,Qxh8+,Kb7,Qxh6,Qf7,Be3,Rf8,Qxg5,Qf3+,Kg1,g2,Qxg2', 'Qxe3+,Kh2,Rf2', 'https://lichess.org/training/TuRVg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tus4U', 'Blitz', 'CydaAkyol', 1623, 'CrudeMonteCarlo', 1681, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,Bb7,a3,g6,f4,Bg7,e5,Ng8,Be3,Nh6,g4,O-O,Rg1,Kh8,Qe2,d6,O-O-O,Qc7,exd6,exd6,Nd5,Qd7,f5,Rae8,Nxc6,Bxc6,Qd2,Nxf5,gxf5,Qxf5,Rgf1,Qe5,Bh6', 'Qxb2#', 'https://lichess.org/training/Tus4U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUsLv', 'Rapid', 'Linus23', 1975, 'Ajay5052', 1916, 'd4,f5,c4,e6,Nf3,d5,Bg5,Be7,Bxe7,Nxe7,e3,dxc4,Bxc4,a6,Ne5,O-O,Qb3,Nd5,Nc3,c6,O-O-O,b5,Bd3,a5,Rdg1,a4,Qd1,Qe7,g4,f4,Nxd5,cxd5,exf4,Rxf4,g5,Na6,g6,h6,a3,Rxd4,Kb1,Nc5,Nc6,Qf6,Nxd4,Qxd4,Qf3', 'Qxd3+,Qxd3,Nxd3', 'https://lichess.org/training/tUsLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUTi3', 'Blitz', 'Beta99', 2557, 'FM jokechess', 2587, 'e4,c5,c3,g6,d4,cxd4,cxd4,Bg7,Nc3,d6,h3,Nf6,Nf3,O-O,Bd3,Nc6,O-O,a6,Bf4,b5,e5,Ne8,Be4,Bb7,Rc1,Rc8,Re1,Nc7,exd6,exd6,Bg5,Qd7,Qd2,Rfe8,Bh6,Bh8,Qf4,Ne6,Qg4,Ncxd4,Nxd4,Bxd4,Bxb7,Qxb7,Rxe6,Bxf2+,Kxf2,fxe6,Kg1,b4,Ne4,Rxc1+,Bxc1,Qb6+,Kh2,Qd4,Bg5,Qe5+,Qf4,Rf8,Qxe5,dxe5,b3,Kf7,Bd2,a5,Nd6+,Ke7,Nc4,Ra8,Nxe5,Kd6,Nc4+,Kc5,Be3+,Kb5,Kg3,Rd8,Kf3,Rd1,Ke4,Ra1,g4,Rxa2,Nd6+,Kc6,Nc4,a4,bxa4,Rxa4,Ne5+,Kb5,Nd3,b3+,Bd4,Kc4', 'Nb2+,Kb5,Nxa4', 'https://lichess.org/training/tUTi3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TutR5', 'Blitz', 'Ahremchuk_A_A', 2082, 'NiteKnight21', 1577, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Bc4,e6,Nc3,Be7,Qe2,O-O,O-O,b6,Ngxe4,Bb7,d3,Nc6,Be3,Ne5,Bb3,a5,a4,Neg4,h3,Nxe3,fxe3,Nxe4,Nxe4,Bxe4,dxe4,Bc5,Rad1,Qg5,Rf3,Rad8,Rdf1,Qe5,Qf2,f6,Kh1,Qxb2,Bxe6+,Kh8,Bb3,Qc3,Rg3,Rd2,Qf3,Bd6,Rg4,Be5,Rh4,Rd7', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/TutR5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TUUur', 'Rapid', 'Grevozin', 1729, 'capaplaca', 1660, 'e4,e5,Nf3,Nf6,d3,h6,Nxe5,d6,Nf3,Nc6,Nc3,Bg4,Be2,Bxf3,Bxf3,Nd4,Be3,Nxf3+,Qxf3,Be7,O-O,c6,Ne2,Qc7,Bf4,O-O-O,d4,g5,Bg3,g4,Qa3,Nxe4,Qxa7,Nxg3,Nxg3,Kd7,Rfe1', 'Ra8,Qxa8,Rxa8', 'https://lichess.org/training/TUUur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tuwsP', 'Rapid', 'valmasia3', 1888, 'herr_franz', 1626, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,Kf1,d6,d4,Be7,Bxf4,Nf6,Nbd2,d5,exd5,Nxd5,Bxd5,Qxd5,c3,O-O,Bxc7,Bg4,Qc2,Bxf3,Nxf3', 'Qc4+,Kf2,Qxc7', 'https://lichess.org/training/tuwsP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TUXQs', 'Classical', 'Vassileskii', 1811, 'Davor57', 1739, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,d5,exd5,Nxd5,Re1,Qd6,d4,exd4,cxd4,Bb4,Bd2,Bxd2,Qxd2,Bg4,Ne5,Nxe5,dxe5,Qc5,Qxd5,Qb4,Nc3,Be6,Qb5,Qxc4,Qxc4,Bxc4,b3,Be6,Nb5,c6,Nc7,Rad8,Nxe6,fxe6,g3,Rd2,f4,g5,Rad1,Rxa2,fxg5,Rff2,Rd8+,Kf7,Rd7+,Kg6,h4,b6,g4,Rg2+,Kf1,Rxg4,h5+,Kxh5,Rxh7+,Kg6,Rh6+,Kf5,g6,Rag2,Rh3,Rxg6', 'Rf3+,Kg5,Kxg2', 'https://lichess.org/training/TUXQs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tuy40', 'Classical', 'Vizzius', 1638, 'pucedanslecou', 1620, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bd7,O-O,g6,Nc3,Qb6,Bd3,Nxd4,Be3,Nxf3+,Qxf3,d4,Nd5,Qc5,Bf4,Rc8,b4,Qc6,c4,dxc3,Be4,Nf6,Nc7+,Rxc7,Bxc6,Rxc6,Rac1,Bg4,Qe3,Nd5,Qd4,Nxf4,Qxf4,Bf5,Qb8+,Rc8,Qxb7,Bg7,Rfe1,O-O,Qxe7,c2,h3,Bh6,Qxa7,Bxc1,Rxc1,Rfd8,Kh2,Rd1,Rxc2,Rxc2,a4,Rxf2,b5,Rb2', 'Qb8+,Kg7,Qe5+', 'https://lichess.org/training/tuy40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tuy4S', 'Rapid', 'aleksvlad', 1854, 'dufyduck', 1808, 'd4,Nf6,c4,c5,d5,b5,e3,Ba6,cxb5,Bb7,Nc3,Qa5,Bc4,Qb4,Qb3,g6,Ne2,Bg7,O-O,d6,Bd2,a5,a3,Qxb3,Bxb3,a4,Bc4,Nbd7,f4,Nb6,Ba2,Nfxd5,Nxd5,Nxd5,Bxd5,Bxd5,Nc3,Bc4,Rfe1,O-O,e4,Rab8,e5,dxe5,fxe5,Bxb5,Nxb5,Rxb5,Bc3,Rfb8,Rad1,e6,Rd7,R8b7,Rd8+,Bf8,Ra8,Rb3,Rd1,Rb8,Rxa4,Bh6,Kf2,Bf4,g3,Rxb2+,Bxb2,Rxb2+,Kf3,Bxe5,Ra8+,Kg7,Rd7,Bd4,Raa7,Rf2+,Ke4,Re2+,Kd3,Re3+,Kc4,Rc3+,Kb5,Rb3+,Kc6,Rf3,a4,Rf6,Kb5,e5,a5,c4,Kxc4,Bxa7,Rxa7,Kf8,a6,Ke8,Ra8+,Kd7,a7,Ra6,Kb5,Ra1,Kb6,e4,Kb7,Rb1+,Ka6,Ra1+,Kb7,Rb1+,Ka6,e3', 'Rd8+,Kxd8,a8=Q+', 'https://lichess.org/training/Tuy4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tuyGY', 'Classical', 'ckoel', 1658, 'nicodelsur', 1673, 'e4,e5,Nf3,Nc6,Nc3,Bb4,Nd5,Bc5,Nxe5,Nxe5,d4,c6,Nc3,Bxd4,Qxd4,Qf6,f3', 'Nxf3+,gxf3,Qxd4', 'https://lichess.org/training/tuyGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TUYNH', 'Rapid', 'manolor71', 1763, 'Sspud', 1762, 'c4,e5,Nc3,f5,e4,Nf6,d3,f4,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,f3,gxf3,b6,Bg5,Bc5,Qe5+,Be7,Nd5,Nxd5,Qxd5,Bxg5,Qxa8,O-O,Qd5+,Kh8,Be2,c6,Qe5,d6,Qd4,Bh3,Rg1,Bf6,Qd2,Be5,O-O-O', 'Bf4,Qxf4,Rxf4', 'https://lichess.org/training/TUYNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tUYVO', 'Classical', 'jontpan', 1723, 'JaCe87', 1727, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,g6,g3,Bg7,Bg2,O-O,O-O,Qc7,f4,Nbd7,f5,Ne5,fxg6,hxg6,Bg5,Qb6,b3,Bd7,Bxf6,Bxf6,Nd5,Qxd4+,Qxd4,Nf3+,Bxf3,Bxd4+,Kg2,Bxa1,Rxa1,e6', 'Nf6+,Kg7,Nxd7', 'https://lichess.org/training/tUYVO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TUZ4P', 'Rapid', 'tunaacil', 1719, 'CRFrota', 1766, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bc4,d5,exd5,exd5,Bb3,Be6,O-O,Nf6,Re1,Be7,Ba4,O-O,Bxc6,Qb6,Ba4,Bc5,Be3,Bxe3,Rxe3,Ng4,Rf3,Qxb2,Nd2,Rab8,Rb3,Qd4,Rxb8,Rxb8,Bb3,Nxf2,Qe2,Nh3+,Kh1,Qxa1+,Nf1,Ng5,h4,Ne4,Kh2,Qe5+,Kg1,Qd4+,Kh2,Nc3,Qf3,Nd1,h5,Nf2,h6,Qe4,Qxf2,gxh6', 'Qg3+,Qg4,Qxb8+', 'https://lichess.org/training/TUZ4P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tv14x', 'Blitz', 'scapi1', 1738, 'Knight_352', 1751, 'c4,e5,Nc3,a6,g3,Nc6,Bg2,b6,e3,Bb7,Nge2,Rb8,O-O,h5,d4,exd4,exd4,d6,Nf4,Nf6,Re1+,Be7,Ncd5,Nxd5,Nxd5,O-O,Nxe7+,Nxe7,d5,Ng6,Qxh5,b5,b3,bxc4,bxc4,Qf6,Bg5,Qf5,g4,Qd3,Re3,Qxc4,Rh3,Rfe8,Qh7+,Kf8,Rf1,Bxd5,Bxd5,Qxd5,f4,Qe4', 'Qh8+,Nxh8,Rxh8#', 'https://lichess.org/training/tv14x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TV1dF', 'Rapid', 'paganica91', 1619, 'chatran666', 1644, 'e4,e5,Nf3,d5,Nxe5,Nf6,exd5,Qxd5,d4,Bb4+,c3,Bc5,Bf4,Bd6,Nd2,O-O,Ndf3,Re8,Be2,Ne4,O-O,Bg4,Bc4,Qxc4,Nxc4,Bxf4,Re1,b5,Nce5,f6,Nxg4,Nc6,Nd2,Nxd2,g3', 'Rxe1+,Qxe1,Nf3+,Kg2,Nxe1+', 'https://lichess.org/training/TV1dF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tv4Ip', 'Rapid', 'velkypes', 2006, 'WevKruc', 2140, 'd4,Nf6,Nf3,g6,c3,Bg7,h3,d5,Bf4,O-O,e3,Nh5,Bh2,Nd7,Be2,Nhf6,Ne5,Nxe5,Bxe5,Bf5,Bd3,Qd7,O-O,a5,Bxf5,Qxf5,Nd2,c6,a3,b5,Re1,Nd7,Bxg7,Kxg7,e4,dxe4,Rxe4,e5,dxe5,Nxe5,Qe2,Nd7,Re1,Nc5', 'Re5,Qf6,Rxc5', 'https://lichess.org/training/Tv4Ip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tV61V', 'Classical', 'Daquelejeito123', 1701, 'west0701', 1871, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,O-O,Nc6,e5,d5,Bxd5,Nce7', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/tV61V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tV6D5', 'Rapid', 'SteffenHestern', 1896, 'Skunz', 2062, 'Nf3,g6,d4,Bg7,Bf4,c5,e3,Nc6,c3,cxd4,exd4,Nf6,Bd3,O-O,O-O,d6,h3,a6,a4,b6,Nbd2,Bb7,Re1,Re8,Qc2,e5,dxe5,Nh5,Bh2,Nxe5,Nxe5,dxe5,Nf3,Bxf3,gxf3,Qg5+,Kh1,Qh4,Bf1,Nf4,Qe4,Qxf2,Rad1,Qxb2,Qc4,Rec8,Qb4,Qxc3', 'Rd8+,Rxd8,Qxc3', 'https://lichess.org/training/tV6D5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TV7Ry', 'Blitz', 'WIM zinebdinaabdi', 2225, 'JuneIbanez', 2206, 'e4,d6,d4,Nf6,Nc3,Nbd7,f3,c6,Be3,Qc7,Qd2,e5,Nge2,Be7,O-O-O,b5,Kb1,a5,g4,a4,Ng3,b4,Nce2,c5,dxc5,dxc5,Nf5,Rg8,Nxe7,Kxe7,Ng3,g6,g5,Nh5,Nxh5,gxh5,Qd5,Ra5,Bc4,Rg7,Rhf1,Nb6,Qd3,Nxc4,Qxc4,Be6,Qd3,c4,Qd2,Rb5,f4,b3,cxb3,cxb3,a3,Bg4,f5,Bxd1,f6+,Kf8,fxg7+,Kxg7,Rxd1,Qc6,Rc1,Qxe4+,Ka1,Rd5,Qc3', 'Rd3,Qxd3,Qxd3', 'https://lichess.org/training/TV7Ry');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tV8Dn', 'Blitz', 'Shambala10', 1992, 'Liddari', 2180, 'e4,c5,Nf3,e6,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,d6,exd6,Qxd6,Be2,Be7,O-O,O-O,Nc3,Nxc3,bxc3,Nd7,a4,Qc7,Bb2,b6,Bd3,Bb7,Qc2,Nf6,Ne5,Rfd8,Bc1,h6,Be3,Rac8,c4,Nd7,f4,Nxe5,fxe5,Ba6,Qf2,Bf8,Qg3,Kh8,Rf4,Rd7,Raf1,Kg8,Rh4,Kh8,Qg4,Bb7,Rf6,Qc6,Rf3,Qxa4,h3,Bxf3,Qxf3,Qc6,Be4,Qxc4,Bd3,Qxd3,Kh2,Qh7,g4,Kg8,g5,Rc2+,Kg3,Rc3,gxh6,gxh6,Rg4+,Bg7', 'Qa8+,Rc8,Qxc8+,Rd8,Qxd8#', 'https://lichess.org/training/tV8Dn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tv8ju', 'Rapid', 'Antek-Grossberlin', 1758, 'ChizhovKirill', 1731, 'e4,c5,c3,Nc6,Nf3,e5,d3,d5,Be2,d4,O-O,f5,exf5,Bxf5,Bg5,Be7,Bxe7,Ngxe7,Nh4,Be6,Bg4,Qd7,Bxe6,Qxe6,Nd2,Nd5,Ne4,b6,Rc1,Nf6,Nxf6+,gxf6,Qh5+,Kd7,Qf5,Ne7,Qxe6+,Kxe6,f4,Rhg8,Rce1,Ng6', 'f5+,Kf7,fxg6+', 'https://lichess.org/training/Tv8ju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tv8nS', 'Rapid', 'Melnady', 1621, 'gugugu2005', 1623, 'd4,d5,Nf3,e6,g3,c5,Bg2,Nc6,O-O,cxd4,Nxd4,Nf6,Nxc6,bxc6,c4,Bc5,e4,Nxe4,Bxe4,dxe4,Qxd8+,Kxd8,Bf4,h6,Nc3,f5,Rad1+,Ke7,Be5,Rg8,Na4,Bb6,Nxb6,axb6,a3,g6,b3,Rd8', 'Bf6+,Kxf6,Rxd8', 'https://lichess.org/training/tv8nS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tvaYr', 'Rapid', 'sdsdsdd', 1726, 'Harsh1105', 1606, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Qf3,Bg4,Qf4', 'e5,Qg3,exd4', 'https://lichess.org/training/tvaYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tVbZR', 'Blitz', 'hankwookman', 1750, 'ADittm', 1798, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qc7,Bc4,Nf6,Nf3,Bg4,O-O,Nbd7,a4,e6,h3,Bh5,Be2,Bd6,Be3,O-O,Qd3,Rad8,Ne4,Nxe4,Qxe4,Nf6,Qd3,c5,c3,cxd4,cxd4,e5,Rfc1,e4,Qb5,Qe7,Nh2,Bxe2,Qxe2,Nd5,Ng4,Nxe3,Nxe3,Bf4,Rc4,Rd7,Rac1,Rfd8,g3,Bh6,Nf5,Qg5,Nxh6+,Qxh6,Qxe4,Qxh3,Rc8,Rxd4', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/tVbZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tVc1C', 'Classical', 'Onli1', 1651, 'JaviAJ', 1698, 'd4,Nf6,c4,e6,a3,Nc6,Nf3,g6,h3,Bg7,e3,O-O,Bd3,d5,c5,Re8,O-O,e5,dxe5,Nxe5,Ng5,Nxd3,Qxd3,Qe7,e4,dxe4,Qb3,Nd7,Be3,h6,Nxe4,Qxe4,Nc3,Qe5,Rae1,Qf5,Nb5,Nxc5,Qc4,Na6,Nd4,Qa5,Bd2,Qxd2,Rxe8+,Bf8,Nf3,Qxb2,Ne5,Be6,Rxe6,fxe6,Qxe6+,Kh8,Rd1,Nc5,Qf6+,Kg8', 'Qf7+,Kh8,Nxg6#', 'https://lichess.org/training/tVc1C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tVcO3', 'Rapid', 'InClassPlayer', 2096, 'Darpan_1959', 2060, 'd4,d5,c4,dxc4,e4,Nc6,Nf3,e6,Bxc4,Nf6,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,a3,Be7,e5,Qf4,g3,Qf5,Bd3,Qh3,Ne2', 'Qg2,Rf1,Qxf3', 'https://lichess.org/training/tVcO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVcp7', 'Rapid', 'maverick51', 1802, 'aryanravi44', 1677, 'c4,e5,Nc3,Qf6,Nf3,Na6,Ne4,Qc6,d3,f6,e3,Bb4+,Bd2,Bxd2+,Nexd2,Qb6,Nh4,Qxb2,Rc1,Qxa2,Qh5+,g6', 'Nxg6,hxg6,Qxh8', 'https://lichess.org/training/TVcp7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tVCSc', 'Blitz', 'daniel2590', 1989, 'Extris', 1998, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,Be7,g3,O-O,Bg2,c5,O-O,Nc6,Re1,Qc7,e5,Nd7,Qe2,b5,c3,a5,h4,a4,Nf1,b4,a3,bxc3,bxc3,Rb8,N1h2,Rb3,Ng4,h5,Ngh2,Rxc3,Bg5,Bxg5,Nxg5,g6,g4,Ndxe5,gxh5,Nxd3,hxg6,fxg6,Nxe6,Bxe6,Qxe6+,Kg7,Bxd5,Nf4,Qxc6,Nh3+,Kg2', 'Rxf2+,Kh1,Qxh2#', 'https://lichess.org/training/tVCSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tvd3D', 'Rapid', 'Anandnokia', 2097, 'Mikorilla', 2085, 'Nf3,d5,c4,dxc4,e3,g6,Bxc4,Bg7,d4,Nf6,O-O,O-O,Qe2,c5,Nc3,cxd4,exd4,Bg4,Rd1,Qc7,Bb3,Nc6,Be3,Rad8,Rac1,e6,h3,Bf5,Bg5,h6,Bh4,g5,Bg3,Qa5,Bc2,Bxc2,Qxc2,Nd5,Qb3,b6', 'Nxd5,Qxd5,Qxd5,Rxd5,Rxc6', 'https://lichess.org/training/Tvd3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tvdbN', 'Blitz', 'america1pie', 2204, 'GM E-Shaposhnikov', 2604, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,d6,O-O,Ng4,Bf4,Qf6,Ne2,g5,Bg3,h5,c3,Bc5,h3,h4,hxg4,hxg3,Nxg3,Rh4,Qf3,Qe5,Bc4,f6,b4,Bxg4,Qd3,Bb6,a4,O-O-O,a5,Rdh8,Rfd1,Rh1+,Nxh1', 'Qh2+,Kf1,Qxh1#', 'https://lichess.org/training/tvdbN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tVEU0', 'Rapid', 'regelemare', 1798, 'razbir', 1789, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,Qf3,Nf6,h3,Bd6,Bd3,O-O,Nge2,Re8,O-O,h6,Bf4,Bf8,Ng3,Nbd7,Rfe1,g5,Bd2,Bg7,Nh5,Nxh5,Qxh5,Nf6,Rxe8+,Qxe8,Re1', 'Qxe1+,Bxe1,Nxh5', 'https://lichess.org/training/tVEU0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVFo6', 'Blitz', 'masterfire30', 2157, 'IM hari2209', 2227, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd3,d6,Ne2,e5,f3,Re8,O-O,Nc6,a3,Bxc3,bxc3,e4,fxe4,Nxe4,Bxe4,Rxe4,Ng3,Re8,Qf3,Be6,Qe2,Qh4,e4,d5,cxd5,Bxd5,e5,Ne7,Rf4,Qh6,Rxf7,Qe6,Rf1,Bc4,Qe1,Bxf1,Qxf1,Rf8,Qd3,Nd5,c4,Nf4,Qe4,Ng6,Bb2,Qxc4,Rc1,Qb3,Ba1,c6,Rb1,Qf7,e6,Qf4,Qe2,Rae8,d5,cxd5,Bxg7,Kxg7', 'Nh5+,Kh6,Nxf4', 'https://lichess.org/training/TVFo6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tvfuC', 'Classical', 'ferriso', 1941, 'Ponch69', 1732, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Nf6,O-O,Bd6,d4,exd4,e5,Bc5,exf6,Qxf6,Re1+,Be6,Bg5,Qg6,Kh1,O-O,Bf4,Bb6,Ne5,Qf5,Bg3,f6,Nd3,c5,b3,Bd5,Nd2', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/tvfuC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tvfXq', 'Rapid', 'ZieglerDF', 1627, 'dadu44', 1609, 'e4,c5,Nf3,d6,Bc4,h6,d4,cxd4,Nxd4,e5,Qf3,Nf6,Nf5,Qd7,Nc3,a6,Nd5,Nxd5,Bxd5,Nc6,Be3,g6,Ng3,Bg7,O-O,O-O,Ne2,Rb8,a3,b5,Nc3,Nd4,Bxd4,exd4,Ne2,Qc7,Qg3,Be5,Qxg6+,Bg7,Nf4,Be6,Bxe6,fxe6,Qxe6+,Kh8,Ng6+,Kh7,Nxf8+,Rxf8,Rac1,Rc8,Qf5+,Kh8,f4,d3,cxd3', 'Bd4+,Kh1,Qxc1', 'https://lichess.org/training/tvfXq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tvg9n', 'Blitz', 'mtlchess77', 1739, 'delteambok', 1711, 'e4,e5,Bc4,Nc6,Nf3,Nd4,Nxe5,Qg5,Bxf7+,Kd8,Ng4,Qf4,Bd5,Nf6,d3,Qxg4,Qxg4,Nxg4,O-O,Nxc2,Bg5+,Nf6,e5,Nxa1', 'exf6,gxf6,Bxf6+,Be7,Bxh8', 'https://lichess.org/training/Tvg9n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tvGcI', 'Rapid', 'FiveBucks', 2019, 'GoodLuck14', 1934, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,c3,Nf6,d3,Be7,Be3,c6,Nbd2,Nbd7,O-O,Nb6,Bb3,Qd7,d4,exd4,cxd4,O-O,e5,dxe5,dxe5,Nfd5,Qe2,Rfe8,Rad1,Qc7,Bxb6,axb6,Ne4,Bb4,Bxd5,cxd5,Rxd5,Rxa2,Nd6,Bxd6,Rxd6,Qxd6,exd6,Rxe2,d7,Ra8,Rc1,Rd8', 'Rc8,Kf8,Rxd8+,Ke7,Re8+,Kxd7,Rxe2', 'https://lichess.org/training/tvGcI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tVgRq', 'Blitz', 'SCIENS', 2063, 'NM CrazyHorses', 2038, 'Nf3,Nf6,c4,e6,g3,d5,Bg2,c5,cxd5,exd5,d4,Nc6,O-O,Be7,b3,O-O,Bb2,Ne4,Nc3,Bf6,Rc1,cxd4,Nb5,Qa5,Nbxd4,Qxa2,Rc2,Nb4,Rd2,Nxd2', 'Qxd2,Qa5,Bc3', 'https://lichess.org/training/tVgRq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVGuz', 'Rapid', 'Les_Kistler', 2073, 'serfo', 2044, 'e4,e6,d3,h6,Nf3,Nf6,g3,b6,Bg2,Bb7,O-O,g5,e5,Nd5,c4,Ne7,Nc3,Nf5,Ne4,Bg7,Re1,Nc6,d4,Qe7,g4,Nh4,Nxh4,gxh4,g5,O-O-O,c5,f6,gxf6,Qf7,fxg7,Qxg7,Bf4,h3,Ng3,hxg2,cxb6,axb6,Rc1,h5,d5,exd5,Qxd5,Rhf8,Bd2,h4,Ne4,Nxe5', 'Nd6+,Kb8,Qxb7#', 'https://lichess.org/training/TVGuz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVINF', 'Rapid', 'Willyboy', 1891, 'Salar-solo', 1813, 'b3,e5,Bb2,d6,g3,Nf6,Bg2,Nc6,d3,Bd7,Nd2,Be7,e4,Qc8,Ne2,Bg4,h3,Bxe2,Qxe2,Nb4,Qd1,c5,a3,Nc6,O-O,O-O,Kh2,Qd8,c4,Ne8,a4,a5,Qe2,Bg5,Nf3,f5,Nxg5,Qxg5,exf5,Rxf5,Be4,Rf8,h4,Qf6,Qh5,g6,Qg4,Nd4,Bxd4,cxd4,f4,Ng7,Bxb7,Rab8,Bd5+,Kh8,Rab1,Nf5,Qf3,Ne3,Rf2,Qf5,Be4,Qg4,Bc6,Qxf3,Rxf3,Rb6,Bb5,exf4,Rxf4,Rxf4,gxf4,Kg7,Kg3,Kf6,Kf3,Rb7,Ke4,Ke6,Kxd4,Nf5+,Ke4,Nxh4,Rc1,Nf5,d4,Rc7,d5+,Kf6,Re1', 'Re7+,Kd3,Rxe1', 'https://lichess.org/training/TVINF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TvKGF', 'Blitz', 'psmith112', 1608, 'Filipe_Costa', 1554, 'd4,Nf6,Bf4,d6,Nc3,g6,Nf3,Bg7,e4,O-O,Qd2,Nbd7,O-O-O,c5,dxc5,Nxc5,Bc4,Ne6,Bxe6,Bxe6,Ng5,Bg4,f3,Bd7,h4,h5,Nd5,Nxd5,Qxd5,Bc6,Qb3,a5,g4,a4,Qa3,e5,Be3,hxg4,fxg4,Bh6,h5,Bxg5,Bxg5,Qxg5+,Kb1,Qxg4,hxg6,fxg6,Rhg1,Qxe4,Rxd6,Qf5,Rdxg6+,Kf7,Qd6,Rad8', 'Rg7+,Ke8,Qe7#', 'https://lichess.org/training/TvKGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVn6h', 'Rapid', 'MarcusQF', 1840, 'wahyudikresno', 1820, 'e4,e5,Nf3,Nc6,Bc4,Bb4,c3,Ba5,d3,Nf6,Bg5,O-O,O-O,d6,Nbd2,Be6,Bb3,Bb6,a4,a6,Nc4,Ba7,Qc2,d5,Ncd2,d4,Nc4,dxc3,bxc3,b5,axb5,axb5,Ncxe5,Nxe5,Nxe5,Bxb3,Qxb3,Qd6,Nf3,Ng4,g3,Nxf2,Rxf2', 'Bxf2+,Kxf2,Rxa1', 'https://lichess.org/training/TVn6h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tvn7i', 'Rapid', 'kp_chess', 2025, 'Wyf380632', 2050, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,Bg5,d6,Nc3,h6,Bh4,Be6,Nd5,Nxd5,exd5,Bxh4,dxe6,d5,exf7+,Rxf7,Bb3,Bf6,Re1,Kh8,a4,Re7,Qd2', 'e4,dxe4,dxe4,Qxd8+,Rxd8', 'https://lichess.org/training/Tvn7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVP7p', 'Blitz', 'ZeroMissedCalls', 1620, 'Zekeriyye', 1593, 'e4,e5,Nf3,Qf6,Nc3,c6,d4,exd4,Qxd4,Qxd4,Nxd4,Nf6,Bg5,Be7,Bc4,O-O,O-O,h6,Bh4,b5,Bd3,Re8,e5,Nh7,Bxe7,Rxe7,Rfe1,Bb7,Nf5,Re6,Nd6,Ba6,Nce4,Rxe5,Nc5,Rxc5,Re8+,Nf8,Rae1,Rd5', 'Rxf8+,Kxf8,Re8#', 'https://lichess.org/training/TVP7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVPBn', 'Rapid', 'Andre_Ludvig', 2171, 'Jomax100', 1903, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,Nc3,Be6,Bb5+,Nc6,O-O,Bd6,Ng5,Qd7,Nxe6,fxe6,Re1,O-O-O,Be3,Qc7,dxc5,Bxh2+,Kh1,d4,Bxc6,bxc6,Qh5,dxe3,Qxh2,Qxh2+,Kxh2,exf2,Re2,Nf6,Kg3,Rhf8,Rf1,Nh5+,Kh4,Rd4+,g4,Nf6,Rexf2,Rxg4+,Kh3,Rd8', 'Rxf6,gxf6,Kxg4', 'https://lichess.org/training/TVPBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVpRz', 'Rapid', 'cpcpcp9', 2081, 'peduajo', 2165, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Nc6,O-O-O,Bd7,Be2,Rc8,g4,Ne5,h4,h5,gxh5,Nxh5,f4,Nc4,Qd3,Nxe3,Qxe3,Qa5,Bxh5,Qxh5,f5', 'Bh6,Qxh6,Qxh6+', 'https://lichess.org/training/TVpRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TvPXy', 'Classical', 'pavel_sedin', 1607, 'Ilija777', 1712, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,h6,O-O,Nf6,Re1,Bc5,a3,O-O,Ba2,Ng4,Re2,Nxf2,Rxf2,Bxf2+,Kxf2,d6,Nc3,Ne7,d4,exd4,Qxd4,c5,Qe3,Re8,Nd5,c4,Qd4,Nc6,Qe3,Ne5,b3', 'Ng4+,Kg1,Nxe3', 'https://lichess.org/training/TvPXy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tvrFG', 'Rapid', 'imgonasplodeu', 1727, 'SupremeKnight', 1736, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,a3,cxd4,axb4,dxc3,bxc3,h6,Nf3,O-O,Bf4,b6,Bxb8,Rxb8,Rxa7,Bb7,Nd4,Qc8,Nb5,Qc6,f3,d5,Nd4,Qxc4,e4,Qc7,Bd3,dxe4,fxe4,Qf4,Ne2,Qe3,Rf1,Bxe4,Bxe4,Nxe4', 'Rf3,Qg5,Qxe4', 'https://lichess.org/training/tvrFG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tVRFR', 'Rapid', 'Peschka22', 1909, 'Farouk1975', 1887, 'e4,c5,Bc4,e6,Nc3,Nc6,a3,Nge7,d3,d5,exd5,exd5,Ba2,Be6,Nge2,g6,Nf4,Bg7,Qe2,Nd4,Nxe6,fxe6,Qd1,O-O,O-O,Nef5,Ne2,Rf7,c3,Nc6,Nf4,Qd6,Re1,Re8,Bd2,Be5,g3,g5,Ng2,h6,Qh5,Kg7,Re2,Ref8,Rae1,Kh7,Bxg5,Rg7,Bd2,Rg6,Kh1,Ng7,Qh3,Rf5,Bb1,Rh5,Nh4,Nf5,d4,cxd4,Bxf5,exf5,Qf1,Rxh4,gxh4,dxc3,Bxc3,d4,Bb4,Qd5+,f3,Rg4,Qf2,Rf4,Rf1,d3,Rd2,Qb5,Qe3,Nxb4,axb4,Rxh4,f4,Qd5+,Rf3,Rxf4,Qxd3', 'Qxf3+,Qxf3,Rxf3', 'https://lichess.org/training/tVRFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tvrZY', 'Blitz', 'NM Janou', 2281, 'epeacekop4', 2234, 'e4,e6,d4,d5,e5,c5,c3,Nc6,f4,Nh6,Nf3,cxd4,cxd4,Nf5,Nc3,Be7,Bb5,a6,Bxc6+,bxc6,O-O,c5,g4,Nh4,Nxh4,cxd4,Qxd4,Bxh4,f5,O-O,f6,g5,Be3,Rb8,Qd2,h6,Rf3,Qc7,Bd4,Qc4,Rh3,Rxb2,Qe3,Bf2+,Qxf2,Rxf2,Bxf2,Qxg4+,Rg3,Qf5,Bd4,Kh7,Rf1,Qc2,h4,gxh4,Rg4,Bd7,Kh1,Bb5,Rfg1,Bd3,Rxh4,Be4+', 'Nxe4,Qxe4+,Rxe4', 'https://lichess.org/training/tvrZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVSFJ', 'Blitz', 'ROM1976', 1650, 'shaher1', 1715, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,Nxc6,Nf3,e5,Bb5,e4,Bxc6+,bxc6,Ne5,Bb7,O-O,Bd6,Nc4,Bc7,Re1,c5,d3,Qb8,Nxe4,O-O,Nxf6+,gxf6,Qg4+,Kh8,Bh6,Rg8,Qf5,Rxg2+,Kf1,Bxh2,Qxf6+,Kg8,Ke2,Qc7,Ne3,Re8,Kd1,Rg6,Qh4,Bf3+,Kd2,Qa5+,c3,Be5,Nc4,Bxc3+,bxc3,Rxe1,Nxa5', 'Re2+,Kc1,Rg1#', 'https://lichess.org/training/TVSFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVSiw', 'Blitz', 'Nivso', 1708, 'uyuco', 1770, 'd4,e6,Nf3,d5,Bf4,Nf6,c4,a6,Nc3,dxc4,e4,b5,Bg5,Be7,e5,Nd5,Ne4,Bb4+,Bd2,Qe7,a3,Bxd2+,Qxd2,Nd7,a4,Bb7,axb5,axb5,Rxa8+,Bxa8,Qa5,O-O,Qxb5,c6,Qxc4,Rb8,b3,Qb4+,Qxb4,Nxb4,Bc4,Nb6,O-O,Nxc4,bxc4,Nd3,Rd1,Nf4,Nd6,Rb2,Ng5,h6,Ngxf7,c5,dxc5,Bxg2,Nd8,Bf3,Re1,Ne2+,Kf1,Nf4,c6,Be2+,Kg1,Bf3,c7', 'Nh3+,Kf1,Rxf2#', 'https://lichess.org/training/TVSiw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tVslc', 'Classical', 'ledag', 1693, 'NaymethaP123', 1778, 'd4,d5,c4,c6,Nc3,Nf6,e3,Bf5,Nf3,e6,Nh4,Bg6,Nxg6,hxg6,Be2,Bd6,c5,Bc7,Qb3,Nbd7,Qxb7,Bxh2,Qxc6,Rc8,Qa6,Rc7,Nb5,Rc8,Rxh2,Rxh2,Nd6+,Ke7,Nxc8+,Ke8,Qd6,Rh1+,Kd2', 'Ne4+,Kc2,Nxd6', 'https://lichess.org/training/tVslc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVSxw', 'Rapid', 'Lutz100', 1712, 'natachuka', 1731, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,Qa4+,Nc6,Ne5,Bd7,Nxc6,Bxc3+,bxc3,Bxc6,Qb4,Qe7,Qxe7+,Kxe7,Ba3+,Kd7,e3,Ne4,Rc1,b6,f3,Nf6,g4,h6,h4,Ne8,cxd5,Bxd5,e4,Bxa2,c4,Bb3,Rc3,Ba4,Kf2,a6,f4,Nd6,Ke3,b5,c5,Nc4+,Bxc4,bxc4,Rxc4,Bb5,c6+,Bxc6,Rd1,Bb5,Rc5,c6,f5,Rhe8,Kf4,Rad8,d5,Kc7,fxe6,fxe6,d6+,Rxd6', 'Rxd6,Kxd6,Rxb5+', 'https://lichess.org/training/TVSxw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tVtk5', 'Rapid', 'JeanPool_TC', 1945, 'tkhanna', 1945, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,e3,O-O,Bd3,b6,cxd5,exd5,Nf3,Bb7,O-O,Nbd7,Bc2,Ng4,Qd3,g6,Bxe7,Qxe7,Rad1,Rab8,h4,Nh6,h5,Nf5,g3,Qf6,Kg2,c5,Bb1,cxd4,exd4,Rfe8,Rh1,Nf8,Rh2,Rbd8,Rdh1,Qg7,hxg6,fxg6,Ng5,Nxd4', 'Rxh7,Nxh7,Rxh7,Qxh7,Nxh7', 'https://lichess.org/training/tVtk5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tvtkZ', 'Blitz', 'Jano83', 2386, 'FM Zorbos', 2436, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Na6,c3,Nc7,Bf4,Bd6,Qe2+,Be6,Bg3,O-O,O-O-O,Re8,Nf3,b5,Bxe6,Rxe6,Qd2,Qd7,Rhe1,Rae8,Rxe6,Rxe6,Re1,Bxg3,hxg3,a5,Re3,Nd5,Re2,a4,Qe1,a3,b3', 'Rxe2,Qxe2,Nxc3', 'https://lichess.org/training/tvtkZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tVuK5', 'Rapid', 'Kaper13', 1767, 'deusdeusdeus', 1908, 'd4,Nf6,Nf3,e6,e3,b6,c4,Bb7,Nc3,Bb4,Bd3,c5,O-O,cxd4,exd4,Nc6,Bg5,Be7,a3,O-O,Qc2,h6,Bh4,Rc8,Qe2,d5,Rfd1,dxc4,Bxc4,Na5,Ba2,Bd5,Nxd5,Nxd5,Bxe7,Nxe7,h3,Nb7,Ne5,Nd6,b4,Re8,Bb1,Nd5,Qd3,Qf6', 'Qh7+,Kf8,Nd7+,Ke7,Nxf6', 'https://lichess.org/training/tVuK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TvvbP', 'Rapid', 'rezamohamadi', 1717, 'TheEmperors', 1855, 'b4,e5,Bb2,Bxb4,Bxe5,Nf6,e3,Nc6,Nf3,Nxe5,Nxe5,O-O,Bc4,d6,Nf3,Bg4,c3,Ba5,Bd3,d5,O-O,Ne4,Be2,c5,Ne5,Bxe2,Qxe2,c4,f3,Nc5,f4,f6,Nf3,Nd3,Na3,a6,Nc2,Re8,Ncd4,Nxf4,Qf2,Nd3,Qg3,Bc7,Qh4,b5,Nf5,Ne5,Nxe5,Bxe5,Qg4,Qd7,Rf3,Qf7', 'Nh6+,Kf8,Nxf7', 'https://lichess.org/training/TvvbP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVvfn', 'Rapid', 'Aristotelis2006', 1776, 'Tibi321', 1720, 'd4,d5,Nf3,Nc6,Bg5,h6,Bf4,Nf6,Nbd2,Bf5,c3,e6,e3,Bd6,Bxd6,Qxd6,Bb5,O-O,O-O,a6,Ba4,b5,Bc2,Bh7,Bxh7+,Kxh7,Nb3,Ne7,Nc5,Ng6,Re1,Nd7,Nxd7,Qxd7,e4,dxe4,Rxe4,Qd5,Re1,Rad8,Ne5,Nxe5,Rxe5,Qd6,Qf3,Kg8,Qg4,Rfe8,Rh5,Kf8,Re5,f6,Re2,e5,dxe5', 'Qd1+,Re1,Qxg4', 'https://lichess.org/training/TVvfn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TvwfM', 'Rapid', 'NourAldeenAlshahid4', 1614, 'Talashika', 1643, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bc4,Bb4,f3,Ne5,Bb3,O-O,Bf4,Bxc3+,bxc3,Nc6,O-O,e5,Nxc6,bxc6,Bxe5,Ba6,Re1,Rc8,Bd6,Re8,e5,Nh5,f4,Nxf4,Qf3,Qg5,g3,Ng6,Bxf7+,Kh8,Bxe8,Rxe8,Reb1,Nxe5,Bxe5,Qxe5,Re1,Qxe1+,Rxe1,Rxe1+,Kf2', 'Rf1+,Kg2,Rxf3', 'https://lichess.org/training/TvwfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TvWgD', 'Rapid', 'abstract1972', 1828, 'Quentin5', 1868, 'e4,c5,c3,d5,d4,dxe4,Bf4,cxd4,cxd4,Nc6,d5,Nb4,Nc3,e5,Bxe5,Nf6,a3,Nbxd5,Nxd5,Qxd5,Bxf6,Qxd1+,Rxd1,gxf6,Bb5+,Ke7,Ne2,Bg4,Rd4,f5,Rd7+,Kf6,Rxb7,Bc5,Bc4,Rhf8,O-O,Rab8,Rxb8,Rxb8,b4,Bd6,Nd4,a5,bxa5,Bxa3,h3,Bh5,Ra1,Bb2,Nc6', 'Rc8,Ra2,Rxc6,Rxb2,Rxc4', 'https://lichess.org/training/TvWgD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tvwvt', 'Rapid', 'MUAYAD_JL', 1726, 'samernofal', 1755, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,Qb6,Nf3,Qxb2,Rb1,Qa3,Nb5,Qa4,Nxc7+,Kd8,Nxa8,h6,Bb5,Qa3,Bf4,Nd5,Bxb8,Nc3,Qd3,Nxb1,Qxa3,Nxa3,Bd3,Bg4,Bc7+,Kc8,Bg3,Bxf3,gxf3,g5,Nc7,h5,h4,gxh4,Bf4,f6,Bf5+,Kd8,Ne6+,Ke8,O-O,Kf7,d5,Bh6,Bxh6,Rxh6,Nf4,b6,Re1,Nc4,Be6+,Kg7,Bd7,Ne5,Ne6+,Kh8,Nd4,Nxd7,Rxe7,Ne5,Ne6,Rg6+,Kf1,Nxf3,Re8+,Kh7', 'Nf8+,Kg7,Nxg6', 'https://lichess.org/training/tvwvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVwZX', 'Rapid', 'Terrazas1961', 1634, 'nonitus', 1658, 'c4,Nf6,g3,g6,Bg2,Bg7,Nf3,O-O,Nc3,c5,e4,d6,e5,Nfd7,exd6,exd6,O-O,Nc6,Nd5,Nde5,Nxe5,dxe5,Rb1,Be6,Ne3,f5,b3,f4,gxf4,exf4,Ng4,Qd7,h3,h5,Nh2,Bxh3,Bb2,Nd4,Bxd4,cxd4,Nf3,Qg4,Ne1,Bxg2,Qxg4,hxg4,Nxg2,f3,Nh4,Kh7,Rbe1,Kh6,Re7,Bf6,Rxb7,Bxh4,Rd7,Bf6,Kh2,Rh8,Kg3,Kh5', 'Rh1+,Kg5,Rd5+', 'https://lichess.org/training/TVwZX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TvxJk', 'Rapid', 'ottocast23', 1673, 'Choconorst_indigooss', 1941, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,e3,Ncxe5,Bd2,d6,Be2,Be7,Nc3,O-O,Nxe5,Nxe5,O-O,Be6,Qb3,b5,Nxb5,Rb8,Qc2,a6,Nd4,Bd7,Rac1,c5,Nb3,Bc6,f4,Ng6,Bd3,Qd7,Na5,Ba8,b3,Qg4,Be4,Nh4,Bxa8,Rxa8,Bc3,Bf6,Bxf6,gxf6,e4,Kh8,Rcd1,Rg8,g3,Nf3+,Kh1,Qh5,Qg2,Nd4,Nb7,Rg4,Nxd6,Rag8,Nf5,Nxf5,exf5,Rxg3,Qd2,Qh3,Rg1', 'Rxg1+,Rxg1,Qf3+,Qg2,Rxg2', 'https://lichess.org/training/TvxJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TVXUS', 'Blitz', 'Tingol_Daigr', 2046, 'deadbeatdescendant', 2128, 'e4,e6,d4,d5,Nc3,Nf6,exd5,exd5,Bg5,Be7,Bb5+,c6,Ba4,O-O,Nge2,a5,Bb3,Bg4,O-O,Ne4,Nxe4,Bxg5,Nxg5,Qxg5,Qd3,Bf5,Qg3,Qxg3,Nxg3,Bg6,c3,Nd7,Rac1,Nf6,Bc2,Rfe8,Bxg6,hxg6,Rfe1,Kf8,Kf1,Ne4,Nxe4,Rxe4,Rxe4,dxe4,Ke2,f5,Ke3,Kf7,g3,g5,Rf1,Rh8,Rh1,Rh3,f3,exf3,Kxf3,Rh6,h4,gxh4,gxh4,g5,h5,Ke6,c4,b6,b3,f4,Kg4,Kf6,Re1,Rh7,d5,cxd5,cxd5,Rd7,Re6+,Kf7,Rxb6,Rxd5,h6,Kg8,a3,Kh7,b4,axb4,axb4,Re5,Kh5,f3,Rb7+,Kh8,Kg6,f2', 'Rb8+,Re8,Rxe8#', 'https://lichess.org/training/TVXUS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tw0SP', 'Rapid', 'Scacchirocconeri', 1877, 'Samsung55', 1967, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,e5,Nd5,c4,Nb6,Bd3,d5,exd6,exd6,O-O,Be6,b3,Qf6,Bd2', 'Qxa1,Bc3,Qxa2', 'https://lichess.org/training/Tw0SP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tw1Kd', 'Blitz', 'Rudi_satria', 1876, 'IM yoseph2013', 2372, 'd4,Nf6,Bf4,g6,Nf3,d6,e3,Bg7,Bc4,O-O,Nbd2,a6,a4,b6,h3,Bb7,O-O,Nbd7,c3,Re8,Re1,e5,dxe5,dxe5,Bg5,e4,Nd4,Ne5,Ba2,c5,Ne2,Nd3,Rf1,Nxb2,Qb3,Qxd2', 'Qxf7+,Kh8,Bxf6', 'https://lichess.org/training/Tw1Kd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TW2O4', 'Rapid', 'iCrazyNarik', 2205, 'Robot110', 2112, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nc6,Nf3,Nf6,Nc3,g6,h3,Bg7,Be3,O-O,a3,a6,Bd3,b5,b4,Bb7,Rc1,Rc8,O-O,Nd7,Bb1,Re8,Qd2,Nb6,Ba2,e6,Rc2,Nc4,Bxc4,bxc4,Rfc1,d5,exd5,exd5,Na4,a5,Nc5,Ba8,b5,Nb8,a4,Nd7,Rb1,Rb8,Kf1,Nf6,Bg5,Qc7,Bf4,Qb6,Bxb8,Rxb8,Ne5,Re8,Re1,Bf8,Ned7,Rxe1+,Kxe1,Nxd7,Nxd7,Qe6+,Kf1,Qxd7,Qf4,Bd6,Qf6,Qe7,Qxe7,Bxe7,Re2,Kf8,f3,Bb7,Kf2,Bc8,g4,Bh4+,Ke3,Bg5+,f4,Bf6,Rb2,Be7,Rf2,Ke8,Rb2,Kd8,Re2,h5,Kf3,hxg4+,hxg4,Bd6,Rh2,c3,Rc2,Bb4,Kg3,Ke7,Kf3,Kf6,Kg3,Kg7,Kf3,Kh6,Rh2+,Kg7,Rc2,f6,Kg3,Kf7,Kf3,Ke7,Kg3,Be6,Kf3,Bg8,Kg3,Bh7,Kf3,f5,g5,Bg8,Ke3,Bf7,Kf3,Kd6,Ke3,Be6,Kf3,Bd7,Ke3,Kc7,Kf3,Bxb5,axb5,Kb6,Ke3,Kxb5,Kd3,Ka4,Rh2,Kb3,Rh1,a4', 'Rb1+,Ka3,Kc2', 'https://lichess.org/training/TW2O4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TW3A6', 'Rapid', 'tempate', 2055, 'LovelyByte', 2046, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,d4,Nc6,d5,O-O-O,Be2,Nf6,O-O,Nxd5,Nxd5,Rxd5,Qe1,Qxe1,Rxe1,e5,h3,Bh5,Be3,Be7,c4,Ra5,a3,e4,Nd4,Nxd4,Bxd4,Bxe2,Rxe2,f6,b4,Bxb4', 'axb4,Rxa1+,Bxa1', 'https://lichess.org/training/TW3A6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TW46k', 'Blitz', 'Tokar1987', 2338, 'FM Eloist', 2376, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,a6,Qd2,b5,a3,Qa5,Ne2,Qb6,c3,a5,g3,Be7,dxc5,Bxc5,Ned4,Nxd4,Nxd4,Ba6,b4,Bxd4,Qxd4,Qxd4,cxd4,a4,Bh3,Nb6,Bf1,Rc8,Kd2,Kd7,Bd3,Nc4+,Bxc4,dxc4,Kc3,Bb7,Rhf1,h5,f5,h4,g4,h3,Rf2,Rh4,Rg1,Bg2,fxe6+,Kxe6,Rf4,g5,Rf6+,Kd5,Rd6+,Ke4,Bxg5,Rxg4,Re1+,Kf5,Be7,Rf4,Rf6+,Kg4,Rxf4+,Kxf4,Bd6,Kf5,Bc5,Rg8,Re3,Ke6,Bd6,Rg4,Bc5,Rf4,Rg3,Rf2', 'd5+,Bxd5,Bxf2', 'https://lichess.org/training/TW46k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tw5at', 'Classical', 'ceng40', 1654, 'anupamkmr', 1663, 'e4,c5,c3,d5,e5,Nc6,d4,Nh6,Nf3,e6,h3,Qb6,Qc2,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Qc7,Bd7,Be3,Qxb2,Bd3,Rc8,Qa5,Bb5,Bxb5+,Rc6,Bxc6+,bxc6,Qc3', 'Bb4,Qxb4,Qxb4+', 'https://lichess.org/training/Tw5at');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TW8Ie', 'Rapid', 'corvin83', 1927, 'bazilio2037', 1896, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,dxc5,Qa5,Bd2,Qxc5,e3,d5,a3,Bxc3,Qxc3,dxc4,Qxc4,Na6,Qb5+,Bd7', 'Qxb7,Rb8,Qxa6', 'https://lichess.org/training/TW8Ie');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twbc7', 'Rapid', 'Saleh_Nofal', 1821, 'leszk', 1857, 'e4,c5,f4,Nc6,Nf3,e6,e5,f6,d4,cxd4,Nxd4,fxe5,Nxc6,bxc6,fxe5,Qa5+,Nc3,Qxe5+,Be2,Ba6,O-O,Bxe2,Nxe2,Bd6,Bf4,Bc5+,Kh1,Qxb2,Rb1,Qxa2,Rb7,Nf6,Bg5,Qd5,Bxf6,Qxd1,Rxd1,gxf6,Rdxd7,Rd8', 'Rxd8+,Kxd8,Rb8+,Kc7,Rxh8', 'https://lichess.org/training/twbc7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Twbjm', 'Blitz', 'FM Mvlitovicius', 2214, 'JosueAdael2021', 2183, 'Nf3,f5,e4,fxe4,Ng5,Nf6,d3,e5,dxe4,h6,Nf3,d6,Nc3,Nc6,Bb5,Bd7,Be3,Be7,Qd2,O-O,O-O-O,a6,Bc4+,Kh8,Bxh6,gxh6,Qxh6+,Nh7,h4,b5', 'Ng5,Bxg5+,hxg5', 'https://lichess.org/training/Twbjm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TWCeE', 'Blitz', 'derZlob', 1885, 'Nzfhyt', 1909, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nh5,e6,Bg7,exf7+,Kxf7,Qd1,Rf8,Nc3,Kg8,Bc4+,Kh8,Bg5,Qe8,Qd2,d6,O-O-O,Bf5,h3,Nf6,g4,Ne4,Nxe4,Bxe4,Qe3,Bxf3,Rhg1,Bxd1,Kxd1,e5,h4,Nc6,h5,gxh5,gxh5,Bf6,h6,Bxg5,Qxg5,Qe7', 'Qg7+,Qxg7,hxg7#', 'https://lichess.org/training/TWCeE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TwcEu', 'Blitz', 'FoxPawn', 1649, 'angstgegner', 1653, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,e3,b6,Bd3,Nc6,e4,d6,Nf3,Na5,e5,dxe5,dxe5,Nd7,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Nf6,exf6,Qd3,fxg7,Qxc3+,Kd1,Qxg7,Rb1,Bb7,Bb2,Rad8+,Kc2,Qg6+,Qxg6+,fxg6,Nxe6,Rxf2+,Kc3,Rdd2,Nxc7,Rc2+,Kd3,Rfd2+,Ke3,Nxc4+,Kf4,Rf2+,Kg3,Rxg2+,Kf4,Rgf2+,Kg3,Rg2+,Kf4,Rxb2,Rxb2,Rxb2,Rc1,Nxa3,Kg5,Rxh2,Kxg6,Rg2+,Kf6,Nc2,Nb5,a5,Nd6,Bf3,Rb1,Nb4,Nf5,Be2,Nh6+,Kh7,Rh1,a4,Nf5+,Kg8', 'Ne7+,Kf8,Rh8+,Rg8,Rxg8#', 'https://lichess.org/training/TwcEu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tWD2y', 'Rapid', 'mahmoud999', 1965, 'gala22', 1947, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Be6,Qd3,Nf6,Qb5+,Nd7,Qxb7,Be7,Bb5,O-O,Bc6,Nc5,Qb4,d5,Bxa8', 'Nd3+,cxd3,Bxb4', 'https://lichess.org/training/tWD2y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twDvL', 'Blitz', 'Odog', 1949, 'viktor1947', 1928, 'd4,e6,Bf4,d5,e3,c5,c3,cxd4,exd4,Bd6,Bg3,Bxg3,hxg3,Nf6,Nf3,Ne4,Nbd2,f5,Ne5,Nc6,Qh5+,g6,Nxg6,Nf6,Qe2,Rg8,Nf4,Qd6,O-O-O,Bd7,Rh6,Ne4,f3,Nxg3,Qe1,Qxf4,Rxe6+,Bxe6,Qxe6+,Kf8,Qf6+,Ke8,Qe6+,Ne7', 'Bb5+,Kf8,Qf6#', 'https://lichess.org/training/twDvL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tWdYo', 'Rapid', 'Abu_Maria', 1731, 'catkislav', 2008, 'd4,d5,c4,e6,Nf3,Nf6,e3,dxc4,Bxc4,a6,O-O,b5,Be2,Bb7,Ne5,Nbd7,Nxd7,Qxd7,Nc3,Bd6,Bf3,Bxf3,Qxf3,O-O,e4,Bb4,e5,Nd5,Ne4,f6,exf6,Nxf6,Nxf6+,gxf6,Qg4+,Kh8,Bh6,Rg8,Qf4,Rg6,Rad1,Bd6,Qf3,Rag8,Bf4,Rxg2+,Kh1,Bxf4,Qxf4,Qg7,Rc1,e5,dxe5,fxe5,Qe4,Rxh2+,Kxh2', 'Qh6+,Qh4,Qxh4#', 'https://lichess.org/training/tWdYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Twdze', 'Rapid', 'furkankafa', 1773, 'ruzeebaba', 1691, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,a6,d4,Qf6,d5,Nd4,Nxd4,exd4,f4,Bc5,c3', 'dxc3+,Kh1,cxb2,Bxb2,Qxb2', 'https://lichess.org/training/Twdze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TWg25', 'Rapid', 'Karpuhin-Nikita', 1673, 'Sbivan', 1796, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d5,Bg5,h6,Bh4,c5,e3,cxd4,exd4,dxc4,Bg3,Nd5,Bxc4,Nxc3,bxc3,Qxd4,Bb5+,Nc6,Bxc6+,bxc6,Ne2,Qc4,O-O,Ba3,Nd4,Be7,Rab1,Qa6,Qe4,Bd7,Rb2,O-O,Nf5,Ba3,Nxh6+,gxh6,Rd2,f5,Qf4,Rf7,Qxh6,Rh7,Qf6,Be7,Qe5,Bf8,Rfd1,Rd8,Qf6,Be7,Qe5,Qa4,Rxd7', 'Qxd1+,Rxd1,Rxd1+,Qe1,Rxe1#', 'https://lichess.org/training/TWg25');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TwgL4', 'Classical', 'Mosher', 1647, 'Ailtonnave1', 1668, 'd4,Nf6,e3,d5,Nf3,c5,Be2,Bg4,O-O,Bxf3,Bxf3,Nc6,c3,cxd4,cxd4,e5,dxe5,Nxe5,Nc3,Nxf3+,Qxf3,Bb4,Bd2,Bxc3,Bxc3,O-O,h4,Ne4,Bb4,Re8,h5,a5,Bc5,Nxc5,h6,g6,Rad1,Ne4,Rd4,Qg5,Rc1,Qxh6,Rc7,Qg7,Rxd5,Nf6,Rd6,Ne4,Rb6,Rac8,Rxc8,Rxc8,Qxe4,f5', 'Qe6+,Qf7,Qxc8+', 'https://lichess.org/training/TwgL4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twGwx', 'Blitz', 'LEGEND-TUSHIN', 1793, 'NM FelipeLobo', 2189, 'd4,Nf6,Bf4,c5,c3,d5,Nf3,Qb6,Qb3,c4,Qc2,g6,e3,Bf5,Qc1,Bg7,Nbd2,O-O,Be2,Nc6,O-O,h6,b3,cxb3,axb3,Nh5,c4,Nxf4,exf4,Bxd4,Nxd4,Qxd4,Nf3,Qc5,cxd5,Qxd5,Bc4,Qe4,Re1,Qc2,Qa3,Qc3,Bb5,Qb4,Bxc6,Qxa3,Rxa3,bxc6,Rxe7,a5,h3,Rfe8,Re5,Rxe5,Nxe5,Be4,Nc4,Bd5,f3,Bxc4,bxc4,Kf8,Kf2,Ke7,Ke3,Kd6,Kd4,c5+,Kc3,a4,g4,f5,Kd3,Kc6,h4,h5,g5,Kb6,Kc2,Ka5,Re3,Kb4,Re6,a3,Kb1,Kxc4,Rxg6,Ra4,Rf6,Kb3,Rb6+,Rb4,Rxb4+,cxb4,g6,a2+,Ka1', 'Ka3,g7,b3,g8=Q,b2#', 'https://lichess.org/training/twGwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twIYv', 'Rapid', 'jenspetermann', 1655, 'ur_obit', 1680, 'd4,d5,Bf4,Nf6,e3,Nbd7,Nf3,e6,Nc3,a6,Be2,Bd6,Bg3,O-O,Qd3,Bb4,a3,Bxc3+,Qxc3,c5,dxc5,Ne4,Qb3,Ndxc5,Qa2,Nxg3,hxg3,Ne4,Bd3,f5,Ne5,Qf6,Nf3,b5,c3,Bb7,Qb3,Bc6,Qc2,a5,Ke2,g5,Nd4,Bd7,Nxb5,Bxb5,Bxb5,Rab8,a4,Rfc8,Bd3,Nc5,Bb5,e5,f4,gxf4,g4,Ne4,gxf5,Ng3+,Kf3,Nxh1,Rxh1,e4+,Ke2,Qxf5,exf4,Qxf4,Bd7,Rf8,Be6+,Kg7,Kd1,Qf6,Bxd5,Rbd8,Qxe4,h6,Qg4+,Qg5,Qxg5+,hxg5,c4,Rf2,Kc1,Rf5,Be4,Rff8,Rh7+,Kf6,Ra7,Rc8,b3,Ke5,Bc2,Rc5,Rg7,Kf4,Rd7,Kg3,Be4,Rf2,Bd5,Kf4,Rf7+,Ke3,Re7+,Kd3,Rd7,Kc3,Kd1,Kxb3,Re7,Kxa4,Re5,Kb4,Ke1,Ra2,Rxg5,a4,Rg8,a3,g4,Kc3,g5,Kd3,g6,Ke3', 'Re8+,Kd3,g7', 'https://lichess.org/training/twIYv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twJ4s', 'Rapid', 'OseiasOlegario1', 1957, 'DrDubious', 1981, 'e4,c5,Nf3,d6,c3,g6,Be2,Bg7,O-O,e6,d4,cxd4,cxd4,Ne7,Nbd2,O-O,Re1,b6,Nf1,Bb7,Ng3,Nd7,Bg5,Re8,Rc1,Rc8,Qb3,a6,a4,h6,Bf4,Nf6,e5,dxe5,dxe5,Nfd5,Bd2,Nc6,Bd3,h5,Bg5,Qc7,Be4,Na5', 'Rxc7,Nxb3,Rxb7', 'https://lichess.org/training/twJ4s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tWk3R', 'Rapid', 'keshavkaurav', 2166, 'Ruwei', 2060, 'c4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nf3,Nf6,O-O,O-O,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Nd5,Nxd5,Qxd5,Be6,Qd3,Rc8,Bd5,Bf5,e4,Bh3,Re1,e5,Bxb7,Rc7,Bd5,Qd7,a4,Qg4,b4,h5,Qe2,Qd7,b5,Bg4,f3,Bh3,Be3,Kh7,a5,f5,b6,axb6,axb6,Rcc8,b7,Rb8,Ba7,f4,Bxb8,Rxb8,Ra8,Rxb7,Bxb7,Qxb7,Ra2,Bh6,Rd2,fxg3,Rxd6', 'Qa7+,Kh1,g2+,Qxg2,Bxg2+', 'https://lichess.org/training/tWk3R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twklp', 'Rapid', 'tranh', 1983, 'aleks67291913', 1994, 'Nf3,e6,d4,d5,Nbd2,c5,e3,Nc6,c3,Qb6,Bd3,Bd6,dxc5,Bxc5,O-O,Bxe3,Qe2,Bc5,b4,Be7,b5,Nb8,Ne5,Nf6,Ndf3,Nbd7,Nxd7,Bxd7,a4,a5,Ne5,h6,Nxd7,Nxd7,Be3,Qc7,Rac1,Nc5,Bxc5,Bxc5,Qg4,O-O,Bb1,Qe7,Qf3,b6,Rce1,Rad8,Qd3,g6,Qh3,Kg7,g3,f5,Re2,Rd6,Rfe1,Qf6,Kg2,f4,Rxe6,Rxe6', 'Rxe6,Qg5,Rxg6+,Qxg6,Bxg6', 'https://lichess.org/training/twklp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twKSA', 'Rapid', 'bkinayy', 1683, 'Vassily_Zaitsev', 1655, 'e4,d5,Nf3,dxe4,Ng5,Bf5,Bc4,e6,Nc3,Nc6,Ncxe4,h6,Qh5,Nf6', 'Qxf7#', 'https://lichess.org/training/twKSA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tWlG0', 'Rapid', 'ziza12', 1654, 'VALENTINASAHILY', 1620, 'e3,d5,e4,dxe4,Bc4,b5,Bb3,c5,Qh5,g6,Qg5,f6,Qf4,g5,Qg3,Ba6,f3,exf3,Qxf3,Nc6,Qxc6+,Qd7,Qxa8+,Qd8,Qc6+,Qd7,Qxa6,e5,Bxg8,Rxg8,Qxf6,Be7,Qxe5,Qd6,Qe4,Rf8,Qxh7,Qe5+,Ne2,Bf6,Qxa7,c4,Qa3,Bh8,Qb4,Rf4,Rf1,Re4,Qf8+,Kd7,Rf7+,Ke6,Qe8+,Kd6,Rd7+,Kc5,Qc8+,Kb4,Rb7,Rxe2+,Kf1,Re1+,Kf2,Qe2+,Kg3', 'Be5+,Kh3,Qh5#', 'https://lichess.org/training/tWlG0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TwmZq', 'Rapid', 'ynyr', 1878, 'islam_zayed', 1740, 'e4,c5,Nf3,Nc6,g3,e5,Bg2,d6,O-O,Nf6,d3,g6,c3,Bg7,Re1,O-O,Nbd2,Bg4,h3,Be6,Nf1,b5,a3,Qd7,Kh2,c4,Ng5,cxd3,Nxe6,Qxe6,Qxd3,a6,Ne3,Rad8,Nd5,Nd7,b4,Nf6,f4,exf4,Bxf4,Ne5,Qd1,Nc4,Bg5,h6,Nxf6+,Bxf6,Bxh6,Rfe8,Qf3,Bg7,Bg5,Rd7,a4,Qe5,axb5,axb5,Bf4,Qxc3,Qg4,Rde7,Rad1,Qxb4,h4,Be5,Bg5,Re6,h5,Qa3,h6,Kh7,Rb1,Qa4,Bf4,Bxf4,Qxf4,Ne5,Bh3,R6e7,Qf6,Kxh6,g4,Qa2+,Kh1,Qe6', 'g5+,Kh7,Bxe6', 'https://lichess.org/training/TwmZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TwnlU', 'Classical', 'nj1007', 1826, 'zeynepcakar12', 1623, 'd4,Nf6,c4,e6,Nf3,Bb4+,Nc3,Ne4,Bd2,Nxd2,Qxd2,Nc6,a3,Be7,e4,d5,cxd5,exd5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Nb3,Qf4,Nxa1,Bc4,Nc2+,Kd2,Bg5,Bxf7+,Kd7,Nxg5,h6,Qf5+,Kc7,Ne6+,Bxe6,Qxe6,Nxd4,Qe5+,Kb7,Nd5,Qa5+,b4,Nb3+,Kc3,Qxa3,Qe7+,Ka6,Nc7+,Kb6,Bxb3,Rac8,Ne6,Rhe8,Qc5+,Kb7,Nd4,Rf8,f3,Rfe8,Rd1,Re3+,Rd3,Qa1+,Kc2,Rxd3,Kxd3,Qb1+,Qc2,Qf1+,Qe2,Qa1,Qe7+,Rc7,Qc5,Qb1+,Qc2,Qa1,Qa2,Qg1,b5,Qxh2,bxc6+,Kc8,Qa6+,Kd8,Ne6+,Ke7,Nxc7,Qd6+,Bd5,Qxc7,Qa3+,Kf6,Qb3,Ke5,Kc4,Qd6,Qb4', 'Qxd5+,Kc3,Qxc6+', 'https://lichess.org/training/TwnlU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Twnn8', 'Rapid', 'Anatoly47', 1891, 'UmarRashidun', 1851, 'd4,Nf6,c4,e6,Nc3,g6,Bg5,Bg7,e4,h6,Bh4,g5,Bg3,d5,e5,Ne4,Nxe4,dxe4,Ne2,b6,Qc2,Bb7,Nc3,f5,exf6,Bxf6,O-O-O,Nc6,d5,exd5,Nxd5,O-O,Qxe4,Rc8,Qg6+,Bg7,Bd3,Rf7,Qh7+,Kf8,Bg6', 'Bxb2+,Kxb2,Rxh7', 'https://lichess.org/training/Twnn8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Twnqv', 'Rapid', 'benechecs', 2153, 'NewPupil', 2057, 'd4,Nf6,c4,e6,Nf3,c5,d5,d6,Nc3,Be7,h3,O-O,e4,e5,g4,Nbd7,Be3,a6,a3,Qa5,Bd3,b5,cxb5,axb5,Nd2,b4,Ne2,Ba6,Bxa6,Rxa6,O-O,Rfa8,a4,Nb6,b3,Nbd7,Qc2,Rc8,Nc4,Qc7,f4,Nb6,f5,Rca8,Nc1,R6a7,Kg2,Qb7,Kf3,Nfxd5,exd5,Qxd5+,Qe4', 'Qxe4+,Kxe4,d5+', 'https://lichess.org/training/Twnqv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Twoto', 'Blitz', 'AHTOHMOHCTP', 1662, 'escanorLP', 1671, 'f4,d5,Nf3,Bf5,e3,Nf6,Be2,e6,O-O,Nbd7,c4,c6,cxd5,cxd5,Bb5,Bd6,d4,a6,Ba4,b5,Bb3,O-O,Ne5,Ne4,Nc3,Ndf6,a4,Bxe5,fxe5,Ng4,Nxe4,Bxe4,Qxg4,bxa4,Bxa4,f6,exf6,Rxf6,Rxf6,Qxf6,Bd7,Rf8,Bxe6+,Kh8,h3,Qf1+,Kh2,Rf2,Bxd5', 'Rxg2+,Qxg2,Qxg2#', 'https://lichess.org/training/Twoto');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tWoVA', 'Rapid', 'cameleon2200', 2350, 'CarlosMBarrios', 2176, 'Nc3,Nf6,g4,Nxg4,e4,d6,Be2,Nf6,d4,Nbd7,Be3,e5,f4,exd4,Qxd4,Nc5,O-O-O,Ng4,Nf3,Nxe3,Qxe3,c6,Rhg1,Qa5,f5,Na4,Nxa4,Qxa4,Kb1,Bd7,e5,Bxf5,exd6+,Kd7,Ne5+,Kc8,b3,Bxc2+,Kxc2,Qxa2+,Kc3,Qa5+,Kb2,g6,d7+,Kc7,Qd4,Qa3+,Kc2,Qa2+,Kc3,Qa5+,Kd3,Bg7,Nc4,Qf5+,Qe4,Qxd7+', 'Kc2,Qf5,Qxf5', 'https://lichess.org/training/tWoVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tWpbr', 'Blitz', 'mladost', 2221, 'CM NowInChess', 2221, 'e4,e6,d3,d5,Nd2,Nf6,g3,Bc5,Bg2,e5,Nh3,dxe4,dxe4,Bg4,f3,Bd7,Qe2,O-O,Nf2,Nc6,c3,a5,Nb3,Bb6,Be3,Bxe3,Qxe3,b6,O-O,Qe7,Rad1,a4,Nc1,Na5,Ne2,Bb5,Rfe1,Nc4,Qc1,Qc5,b3,axb3,axb3,Ne3', 'b4,Nxg2,bxc5', 'https://lichess.org/training/tWpbr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TwpcF', 'Rapid', 'Pilipot2', 1560, 'brocaly', 1574, 'e4,c5,Bc4,e6,Nf3,a6,d4,b5,Be2,cxd4,Qxd4,Bb7,O-O,Nc6,Qd3,Bc5,c3,Nge7,b4,Bb6,Be3,Bxe3,fxe3,d5,Nbd2,Qc7,Ng5,O-O,e5,Ng6,Bh5,Ncxe5,Qc2,Nc4,Bxg6,hxg6,Qd3,Qc6,e4,f6,exd5,Qxd5,Qxd5,Bxd5,Ngf3,Nxd2,Nxd2,Rac8,Rac1,Kf7,Nb3,Bxb3,axb3,Rfd8,c4,Rd3,cxb5,Rxc1,Rxc1,axb5,Rc7+,Kg8,Rc5,Rd5,Kf2,Kh7,Ke3,Kh6', 'Rxd5,exd5,Kd4,f5,Kxd5', 'https://lichess.org/training/TwpcF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twqzs', 'Bullet', 'mismotor', 1772, 'Ne_profy', 1817, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,g3,Nxc3,bxc3,c6,Bg2,e6,d4,Bd6,e4,e5,Nf3,Bg4,h3,Bxf3,Bxf3,Nd7,O-O,O-O,Rb1,Rb8,d5,c5,c4,Nb6,Be2,f5,Qd3,f4,gxf4,exf4,Bg4,Be5,Bb2,Qf6,Bxe5,Qxe5,f3,Rfd8,Rb5,Qd6,Be6+,Kf8,Rf2,Nd7,Rg2,Ne5,Qb3,Nxf3+,Qxf3,Qe5,Qg4,a6,Rb6,a5,Qf5+,Qxf5,Bxf5,g6,Be6,a4,Rgb2,a3,R2b3,Kg7,Rxa3,Kh6,Rab3,Kg5,Kg2,h5,Rxb7,Rxb7,Rxb7,Ra8,Rb2,Ra3,d6,Rd3,e5,f3+,Kf2,Kf4,Bd5,g5,d7,g4,hxg4,hxg4,d8=Q,g3+,Ke1,f2+,Kf1', 'Rd1+,Ke2,f1=Q#', 'https://lichess.org/training/twqzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TwR7G', 'Bullet', 'GEM-592', 1912, 'rjcc_paul', 2005, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,dxe5,fxe5,Nc6,Be3,Bf5,a3,e6,Nf3,Be7,Nbd2,O-O,Be2,f6,O-O,fxe5,dxe5,Nd7,Bf4,Bc2,Qxc2,Rxf4,Qc3,Qf8,b4,Qf5,Bd3,Qh5,Rae1,Raf8,b5,Nd8,Be4,Bc5+,Kh1,Nxe5,Nxe5,Rxf1+,Nxf1,Rf4,Ng3', 'Qxh2+,Kxh2,Rh4#', 'https://lichess.org/training/TwR7G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twRCg', 'Blitz', 'NM KaanC', 2355, 'e-taN', 1832, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,Nf3,Bg4,Bb5+,Nbd7,h3,Bxf3,Qxf3,Bg7,a4,O-O,O-O,a6,Bd3,Rb8,Qg3,Ne5,f4,Nxd3,Qxd3,Nd7,a5,b5,axb6,Rxb6,Rxa6,Rb4,Rxd6,Qe7,e5,Nxe5,fxe5,Bxe5,Rc6,Bd4+,Kh1,Re8,d6,Qd7,Rc7,Qxd6,Bf4,Qe6,Qg3,Rxb2,Bh6,Be5,Qd3,Bxc7,Nd5,Be5,Qf3,Bg7,Nc7,Qe4', 'Qxf7+,Kh8,Bxg7#', 'https://lichess.org/training/twRCg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tws3a', 'Rapid', 'DARK--KINGKRUSHER-94', 1646, 'script1913', 1975, 'g3,e5,Bg2,d6,d3,Nc6,f4,h6,fxe5,Nxe5,Nf3,Nxf3+,Bxf3,Be7,O-O,Nf6,Nc3,O-O,e4,c6,Qe2,Nd7,d4,a6,e5,dxe5,dxe5,Nb6,Be4,Be6,Be3,Nc4,b3,Nxe3,Qxe3,b6,Kh1,Bc5,Qf3,Rc8,Rad1,Qg5,Na4,Qxe5,Rfe1,Qg5,h4,Qg4,Nxc5,bxc5,Bxc6,Rxc6,Qxc6,Qxg3,Qe4,Re8,Re3,Qf2,Re2,Qf6,Qe5,Qxh4+,Rh2,Qg4,Rdd2,Bd5+,Rxd5,Rxe5,Rxe5,Qd1+,Kg2,Qxc2+,Kg3,Qc3+,Kf4,Qd4+,Re4,g5+,Kf3,Qd3+,Re3,g4+,Kf2,g3+', 'Rxg3+,Qxg3+,Kxg3', 'https://lichess.org/training/tws3a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twSgl', 'Blitz', 'user123456789101112', 1631, 'Wicliffe', 1656, 'e4,e5,Nc3,Nc6,d3,Nf6,Be2,d6,f4,Nd4,f5,Bd7,Nf3,h6,O-O,Qe7,a4,g6,b4,gxf5,Nb5,Bxb5,axb5,f4,Nxd4,exd4,Bxf4,Rg8,Qd2,Nd7,Bh5,Qh4,Bxf7+,Kd8,Bxg8,Be7,Bxh6,c6,Bg7,Kc7,Bxd4,c5,bxc5,Nxc5,Bd5,Rh8,h3,Qg3,Rf7,Rxh3,Rxe7+,Kd8,Bf6,Qh2+,Kf2,Kc8,Qa5,Qf4+,Kg1,Qh2+,Kf2,Qf4+,Ke2', 'Qe3+,Kd1,Rh1+,Qe1,Qxe1#', 'https://lichess.org/training/twSgl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twSzz', 'Rapid', 'Ceremco', 1721, 'vatchoul', 1705, 'd4,d5,c4,dxc4,e4,b5,Nc3,a6,a3,c6,Nf3,e6,Bf4,Nf6,h3,Be7,Be2,Nbd7,a4,Bb7,axb5,cxb5,e5,Nd5,O-O,O-O,Bg3,Qb6,Qd2,a5,Ne1,b4,Nxd5,Bxd5,Bf3,Bxf3,Nxf3,f6,Rfc1,fxe5,Bxe5,Nxe5,Nxe5,c3,bxc3,bxc3,Rxc3,Bb4,Rc6', 'Qxc6,Nxc6,Bxd2', 'https://lichess.org/training/twSzz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twtaA', 'Blitz', 'IM Lynxinner', 2592, 'NM szachus', 2424, 'e4,c5,Qf3,e6,Bc4,Nc6,Ne2,Ne5,Qc3,Nxc4,Qxc4,a6,a3,b5,Qa2,Bb7,d3,Nf6,O-O,Be7,Nbc3,O-O,Be3,d5,exd5,exd5,d4,c4,Ng3,g6,Rae1,Re8,Qb1,Bd6,Qd1,Bc6,Nce2,a5,c3,b4,axb4,axb4,Qd2,b3,Bf4,Ra2,Bxd6,Qxd6,h3,Bd7,Nf4,Kg7,Re3,Rea8,Re5,Ra1,Rxa1,Rxa1+,Kh2,Ra2,Qe2,Ra6,Qf3,Be6,Rg5,Ra2,Nfh5+,Nxh5,Qxh5,Rxb2,Qh4,Rxf2,Re5,Kg8,Nh5,Rf5,Nf6+,Kg7', 'Ne8+,Kf8,Nxd6', 'https://lichess.org/training/twtaA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TwuMh', 'Rapid', 'car13', 1933, 'Naamafantti', 2103, 'd4,d5,Bf4,c5,e3,Nc6,Nc3,cxd4,exd4,a6,Nf3,Nf6,a3,Bg4,Be2,e6,O-O,Bd6,Ne5,Bxe2,Nxe2,O-O,c3,Qc7,Nd3,Bxf4,Nexf4,b5,Qf3,Ne4,Rad1,Na5,Qe3,Nc4,Qc1,Qd6,f3,Nf6,Ne2,a5,Nc5,Nd7,Nxd7,Qxd7,b3,Nd6,Ng3,Rfc8,Qg5,f6,Qg4,Rxc3,Nh5,Kh8,Rfe1,f5,Qg5,Rg8,Nf4,Nf7,Qh5,g6,Qh3,Nd8,g4,Qd6,Qg3,g5', 'Ng6+,hxg6,Qxd6', 'https://lichess.org/training/TwuMh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('twwfS', 'Rapid', 'KAR75280', 2078, 'Badbishop89', 1998, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be7,c3,O-O,O-O,Nc6,h3,Be6,Bf4,Nh5,Bh2,Qd7,Nbd2,f5,Ne5,Nxe5,Bxe5,Nf6,Re1,Ne4,f3,Nxd2,Qxd2,f4,Bxf4,Bxh3,Rxe7,Qxe7,gxh3,Qh4,Bxc7,Rxf3,Rf1,Rxf1+,Bxf1,Rf8,Qg2,Rf5,Kh2', 'Rf2,Bg3,Rxg2+', 'https://lichess.org/training/twwfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tWyj1', 'Rapid', 'xavi2008', 1824, 'Alexpigualo', 1869, 'd4,d5,f4,e6,e3,Bd6,c3,Ne7,Nf3,Nd7,Bd3,h6,O-O,O-O,Ne5,f6,Nxd7,Bxd7,e4,c6,e5,fxe5,fxe5,Bc7,Be3,Qe8,Nd2,b6,Qg4,Kh8,Nf3,Nf5,Bf2,Bd8,Nh4,Bxh4,Bxh4,Nxh4,Qxh4,Rd8,Qg4,c5,Qg6,Qxg6,Bxg6,Kg8,Rxf8+,Rxf8,Rf1,Bb5', 'Bh7+,Kxh7,Rxf8', 'https://lichess.org/training/tWyj1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TwYJm', 'Rapid', 'testrun', 1615, 'jecneli', 1624, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,d4,Nf6,Nc3,Nc6,d5,Nd4,g4,Bg6,Bd3,Nxf3+,Qxf3,h6,Be3,Be7,O-O-O,O-O,h4,Bh7,g5,Kh8,gxf6,Bxf6,h5,a6,Qg4,b5,f4,exf4,Bxf4,b4,Na4,Rb8,c3,bxc3,Nxc3,Qe8,Rhe1,a5,Nb5', 'Rxb5,Bxb5,Qxb5', 'https://lichess.org/training/TwYJm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tWyK9', 'Rapid', 'maimoun', 1896, 'ggwaz', 1807, 'e4,e5,Nf3,f5,exf5,Nf6,d3,d6,Be2,Bxf5,O-O,Be7,h3,O-O,Nbd2,Qe8,Re1,Nc6,Nf1,Qg6', 'Nh4,Qf7,Nxf5', 'https://lichess.org/training/tWyK9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tWzkr', 'Blitz', 'jezzinho', 1790, 'mati44', 1771, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Bb5,c5,f4,cxd4,Qxd4,Bc5,Qd1,O-O,Nf3,Qb6,Bd3,Nc6,a3,Nd4,Na4,Nxf3+,gxf3,Qa5+,c3,Be7,Qc2,h6,Be3,b5,b4,Qxa4,Qg2,f5,Rg1,Rf7,Qe2,Qb3,Bd2,a6,Kf2,d4,Rgb1,Qd5,c4,Bh4+,Kg2,Qc6,cxb5,axb5,Rc1,Qb6,Kh1,Bb7,Bxb5,Ba6,Bxa6,Qxa6,Qg2,Qd3,Rd1,Qb5,Qh3,Be7,Rg1,Bf8,Qxh6,Qe2,Rg2,Qxd2,Qxe6,Qc3,Rag1,d3,Qh6,Nf6,exf6,d2', 'Rxg7+,Rxg7,Rxg7+,Bxg7,Qxg7#', 'https://lichess.org/training/tWzkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TX0wB', 'Bullet', 'Neukris', 1686, 'quispostj', 1701, 'd4,Nf6,Nf3,g6,Bg5,Bg7,e3,O-O,Bd3,Re8,Nbd2,c5,c3,d5,Qe2,c4,Bc2,h6,Bxf6,Bxf6,h4,h5,O-O-O,Bg4,e4,e6,e5,Bg7,Qe3,b5,Ng5,Bxd1,Bxd1,b4,g4,bxc3,Qxc3,Nc6,gxh5,Qa5,hxg6,fxg6,h5,Bh6,f4,Qxa2,hxg6,Bg7,Qh3,Nxd4,Qh7+,Kf8,Qh8+,Bxh8,Rxh8+,Kg7,Rh7+,Kxg6', 'Bh5+,Kf5,Rf7#', 'https://lichess.org/training/TX0wB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tx3SY', 'Rapid', 'Achiy', 1624, 'Swahn96', 1620, 'Nf3,d5,d4,Nc6,c4,e6,a3,f6,Nc3,Bd6,e4,dxc4,Bxc4,e5,dxe5,fxe5,O-O,Bg4,Re1,Nd4,Be2,Bc5,Nxe5', 'Nxe2+,Nxe2,Qxd1,Rxd1,Bxe2', 'https://lichess.org/training/tx3SY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tx4wq', 'Rapid', 'bgrgure1', 2149, 'Mchess20', 2074, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bc4,e6,Bf4,Ngf6,c3,Be7,O-O,O-O,Nh4,Nd5,Nxg6,hxg6,Qd2,Nxf4,Qxf4,Nf6,Rfe1,Bd6,Qh4,Qc7,Ne4,Nxe4,Rxe4,Be7,Qh3,b5,Bb3,a5,a3,c5,Rae1,a4,Rxe6,fxe6,Qxe6+,Kh7', 'Qh3+,Bh4,Qxh4#', 'https://lichess.org/training/tx4wq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tx4ww', 'Rapid', 'SirFoam', 1961, 'totofishg', 2356, 'd4,Nf6,Nf3,e6,Bg5,c5,e3,Qb6,Qc1,Nc6,Bxf6,gxf6,c3,Rg8,g3,d5,Nbd2,Bh6,Bg2,Bd7,O-O,O-O-O,dxc5,Qxc5,Qc2,f5,Qa4,Qe7,c4,Rg4,h3,Rgg8,cxd5,exd5,Rfc1,Kb8,Nd4,Ne5,Qa5,Nc4,Qxd5,Be6,Nc6+,bxc6,Qxc6,Nb6,Nb3,Rc8,Qb5,Qd7', 'Qe5+,Rc7,Nc5', 'https://lichess.org/training/tx4ww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tx6Hd', 'Rapid', 'colpadan', 1644, 'sleepyhallow', 1661, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,e6,a3,Qxd4,Be3,Qd8,Bd3,Nc6,O-O-O,Bd7,Bf4,a6,Nge2,Bd6,Bg5,Be7,Rhe1,O-O,h4,Rb8,g4,Ne5,Qh3,Nxd3+,Rxd3,Qc8,Bxf6,Bxf6,g5,Bxc3,Rxc3,e5,Qh2,Re8,h5,c6,g6,fxg6,h6,Re7,hxg7,Rxg7,Rg3,e4,Rh1,Bf5,Nf4,b6,Nxg6,Bxg6', 'Rxg6,hxg6,Qh8+,Kf7,Rf1+,Qf5,Rxf5+,gxf5,Qxb8', 'https://lichess.org/training/Tx6Hd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TX6jL', 'Rapid', 'Ewgeni1935', 1831, 'dheitkam', 1870, 'e4,e6,e5,d5,d4,c5,c3,Qb6,Nf3,Nc6,Bd3,cxd4,cxd4,Bd7,Bc2,Nb4,Nc3,Nxc2+,Qxc2,Ne7,O-O,Nf5,Be3,Rc8,a3,Be7,Qd2,O-O,h3,f6,Ne2,fxe5,Nxe5,Bb5,Rfe1,Bd6,Nf4,Bxe5,dxe5,d4,Rad1,dxe3,fxe3,Ng3,Qf2,Ne4,Qh4,Rf7,Rd4,Bc6,Nxe6,Re8,Nf4,g5,Qg4,Bd7', 'Rxd7,Rxd7,Qxd7', 'https://lichess.org/training/TX6jL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TX8bk', 'Classical', 'HagenHenke80', 1881, 'zaur7777777', 1794, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,c3,Bc5,Be3,Bxd4,Bxd4,Nxd4,cxd4,Nh6,e5,Qc6,Nc3,d6', 'Bb5,O-O,Bxc6', 'https://lichess.org/training/TX8bk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tX9FN', 'Blitz', 'CM lou2018', 2211, 'bulbizar', 2099, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Qf6,O-O,Nge7,d4,exd4,Bg5,Qg6,Bxe7,Nxe7,cxd4,Bb6,Nc3,O-O,Bd3,Qh5,h3,d6,Ne2,f5,e5,f4,Qd2,dxe5,Nxe5,f3,Ng3,Qh4,Bc4+,Kh8,Nxf3,Rxf3,gxf3,Bxh3,Rfd1,Rd8,Bf1,Rxd4,Qe2,Rxd1,Rxd1,Qxg3+,Kh1,Qh4', 'Rd8+,Ng8,Rxg8+,Kxg8,Qe8#', 'https://lichess.org/training/tX9FN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('txBR6', 'Classical', 'dmoritz', 2050, 'Caractacus', 1965, 'e4,c5,Nf3,d6,Bb5+,Nd7,d4,cxd4,Qxd4,a6,Bxd7+,Bxd7,c4,Nf6,Nc3,g6,O-O,Bg7,Qd3,O-O,Bg5,Qa5,e5,Bf5,Qe3,dxe5,Qxe5,Qxe5,Nxe5,h6,Bh4,g5,Bg3,Nh5,Nd5,Rae8,Rfe1,Nxg3,hxg3,f6,Nf3,e5,a4,Rf7,Rad1,Bf8,Nd2,Bc2,Ra1,Bc5,Ne4,Bxe4,Rxe4,Bd4,Rb1,f5,Re2,Rc8,b3,a5,Kf1,f4,gxf4,gxf4,f3,Rc6,Rc1,Kf8,Ke1,b6,Kd2,Rg7,Kd3,Rcg6,Rcc2,h5,Ke4,Rf7,Rc1,h4,Rh1,Rh6,Rh3,Rh5,Rc2,Ke8,Rc1,Kd7,Rch1,Bf2,Rf1,Bc5,Rd1,Bd4,Nxb6+,Kc6,Nd5,Kc5,Rhh1,Rg7,Nxf4', 'exf4,Rxd4,Re7+,Kxf4,Kxd4', 'https://lichess.org/training/txBR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TxBVv', 'Rapid', 'ghazinakhli', 1871, 'jebisesome', 1897, 'e4,c6,Nf3,e6,d4,d6,Nc3,g6,Bd3,Bg7,Be3,Ne7,Qd2,h5,O-O-O,Nd7,Ng5,d5,e5,Nf5,h3,Nf8,Bf4,Bd7,Bxf5,exf5,Rhe1,Ne6,Nxe6,Bxe6,Bg5,Qa5,Kb1,Kd7,Qe2,Bf8,Bd2,Qc7,f3,a5,g4,hxg4,fxg4,Rxh3,gxf5,Bxf5,Qg2,Be6,Rf1,Be7,Rxf7,Rxc3,Rxe7+,Kxe7,Bxc3,Bf5,Qg5+,Ke8,Rh1,Qg7,Rf1,Qf7,e6,Bxc2+,Kxc2,Qxf1,Qxg6+,Ke7,Bd2,Rf8', 'Bg5+,Kd6,e7+', 'https://lichess.org/training/TxBVv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tXc2M', 'Blitz', 'Grandmonsterleo', 2004, 'foratovski', 2047, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Nc6,Bc4,Bd7,O-O-O,Rb8,Bb3,Nxd4,Bxd4,b5,Bxa7,Rb7,Bd4,b4,Nd5,Be6,Nxf6+,exf6,h4,Bxb3,cxb3,Qa5,a4,Rc8+,Kb1,Rbc7,h5,Rc2,Qxc2,Rxc2,Kxc2,Qc7+,Kb1,d5,h6,Bf8,Bxf6,dxe4,Rd8,exf3,Re1,fxg2,Rxf8+,Kxf8', 'Bg7+,Kg8,Re8#', 'https://lichess.org/training/tXc2M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Txcnd', 'Rapid', 'Calanthe', 2098, 'Swingchopchop', 1791, 'e4,e5,f4,Nf6,Nc3,Bb4,Nf3,O-O,Bc4,Bxc3,dxc3,Nxe4,O-O,c6,fxe5,Qb6+,Qd4,Qxd4+,cxd4,d5,exd6,Nxd6,Bb3,Nd7,Bf4,Ne4,Rae1,Ndf6,Ng5,Bf5,Be5,Nxg5,Rxf5,Nge4,g4,Nd2,Bxf6,Nxb3,Bxg7,Kxg7,axb3,Rad8,c3,Rfe8,Ref1,Re2,Rxf7+,Kg6,h4,Rd6,Rxb7,Rxb2,Rf2,Rb1+,Kg2,a5,Ra7,Rxb3,Rxa5,Rxc3,h5+,Kh6,Raf5,Rxd4,Rf6+,Kg5,R6f5+,Kxg4,h6,Rg3+,Kf1,Rd6', 'R2f4+,Kh3,Rh5#', 'https://lichess.org/training/Txcnd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tXCRf', 'Rapid', 'Viperax', 1706, 'annux', 1742, 'd4,d5,Bf4,Nf6,e3,Bf5,f3,h6,g4,Bh7,Nd2,e6,h4,Bd6,Ne2,Nc6,c3,Bxf4,Nxf4,Qd6,h5,Na5,Qa4+,Nc6,Nb3,Bc2,Rc1,Bxb3,Qxb3,O-O-O,Bd3,Rhe8,Ne2,Kb8,Ba6', 'Na5,Qb5,Qxa6,Qxa6,bxa6', 'https://lichess.org/training/tXCRf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tXD97', 'Rapid', 'Rupfer', 2037, 'stalins_pudel', 2023, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,dxe5,fxe5,Nc6,Nf3,Bg4,Be3,Bxf3,gxf3,e6,Nc3,Be7,Qd3,Bh4+,Ke2,Nb4,Qe4,Nxc4,a3,Nxe3,Kxe3,Nd5+,Nxd5,exd5,Qg4,O-O,f4,g6,f5,Qg5+,Qxg5,Bxg5+,Kf3,gxf5,h4,Bh6,Bd3,f4,b4,Kh8,Rhg1,Rg8,b5,b6,Rgc1,Rg3+,Ke2,Re3+,Kd2,Rc8,Rc6,Kg7,Rac1,f3', 'Rg1+,Kf8,Rxh6', 'https://lichess.org/training/tXD97');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TxDW0', 'Blitz', 'jnf27170', 1618, 'faraz3726', 1587, 'e4,e6,d4,d6,c4,g6,e5,dxe5,Nf3,exd4,Qxd4,Qxd4,Nxd4,Bg7,Be3,Ne7,Nc3,O-O,g3,Na6,Bg2,c6,O-O,Nb4,Rad1,Nf5,Nxf5,exf5,Bf4,Bxc3,bxc3,Nxa2,Be5,f6,Bd4,Be6,c5,Rad8,Ra1,Bc4,Rfb1,Rfe8,Rxb7,Re2,Rxa7,Rde8,Bf1,Re1,R7xa2,Bxf1,Rxe1,Rxe1,Ra8+,Kf7,Ra7+,Ke6,Rxh7', 'Bh3#', 'https://lichess.org/training/TxDW0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TxECm', 'Rapid', 'srbhkshk', 1788, 'DoctorPie', 1887, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Be7,O-O,d6,Nc3,Be6,Bb3,O-O,d4,exd4,Nxd4,Nxd4,Qxd4,Nd7,Nd5,c6,Nxe7+,Qxe7,Rd1,Bxb3,axb3,Nf6,Bg5,Qxe4,Bxf6,Qxd4,Bxd4,d5,Re1,Rfe8,Bc3,Re6,Re3,Rae8,Rae1,c5,Rxe6,fxe6,Be5,Rc8,Bd6,Kf7,Re3,c4,Rf3+,Kg6,bxc4,Rxc4,Rc3,Re4,g3,b5,Re3,Kf5,Kg2,Rc4,Rc3,Rxc3,bxc3,Ke4,Bb4,e5,g4,d4,cxd4,exd4,h4,Kd5,Kf3,Kc4,Bd2,b4,Ke4', 'a5,h5,a4', 'https://lichess.org/training/TxECm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('txeE1', 'Rapid', 'distroyer01', 1685, 'anirac', 1656, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Qc7,c3,Nf6,d4,cxd4,cxd4,Nxe4,d5,Na5,Bd3,Nf6,Nc3,a6,Bg5,Be7,Bh4,d6,Rc1,Qd8,dxe6,Bxe6,Bg3,O-O,Ng5,Rc8,Nxe6,fxe6,Re1,Qd7,b4,Nc4,Bxc4,Rxc4,Qb3,d5,Rcd1,Rxb4,Qc2,Rc8,Qd2,Rbc4,Ne2,Ne4,Qd3,Nxg3,Nxg3,Bf6,Nh5,Bc3,Qg3,Bxe1', 'Nf6+,Kh8,Nxd7', 'https://lichess.org/training/txeE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tXey6', 'Rapid', 'ca8chess', 2007, 'Milokeren', 2077, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bg5,d6,e3,c5,Be2,h6,Bh4,Bg4,O-O,Nc6,h3,Bxf3,Bxf3,Qc7,Bxf6,exf6,Nd5,Qd8,Rb1,cxd4,exd4,f5,Nc3,Bxd4', 'Bxc6,Bxc3,Bxb7', 'https://lichess.org/training/tXey6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('txFF8', 'Rapid', 'as12andrei', 1621, 'Demmitrio', 1613, 'c4,e5,Nc3,c6,Nf3,d6,g3,f5,Bg2,e4,Ng1,d5,cxd5,cxd5,e3,Bb4,Qa4+,Nc6,f3,Bxc3,bxc3,Nf6,fxe4,fxe4,Ne2,O-O,O-O,a6,Nd4,Bd7,Qb3,b5,a4,Rb8,Nxc6,Bxc6,axb5,Bxb5,Re1,Rf7,Qc2,Bd3,Qd1,Qd7,Bf1,Rbf8,Ba3,Re8,Bxd3,exd3,Qb1,Qh3,Qxd3,Ng4,Qe2', 'Rf2,Qxf2,Nxf2', 'https://lichess.org/training/txFF8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TXGA3', 'Blitz', 'TedIanMontoyo', 2507, 'IM Tahaned2015', 2552, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bd3,Nge7,O-O,Ng6,Re1,Be7,a3,c4,Bc2,O-O,Nbd2,f6,exf6,Bxf6,Nf1,Qc7,Ng3,Rad8,Bxg6,hxg6,Qc2,e5,dxe5,Nxe5,Nxe5,Bxe5,Qxg6,Rf6,Qg5,Bxg3,hxg3,Rf5,Qe7,Re8,Qxe8+,Bxe8,Rxe8+,Kf7,Re2,Re5', 'Bf4,Rxe2,Bxc7', 'https://lichess.org/training/TXGA3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TXh16', 'Rapid', 'Mazlum07', 1908, 'hrngnc', 2025, 'e4,e5,Bc4,Nf6,d3,Nc6,Bg5,d6,Bxf6,Qxf6,Nf3,Be7,Nc3,Be6,h3,O-O,Qe2,a6,O-O-O,b5,Nd5,Bxd5', 'Bxd5,Nb4,Bxa8', 'https://lichess.org/training/TXh16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TxilQ', 'Rapid', 'torrepajarete', 1867, 'VLADIM1940', 1993, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,Nc3,Bd6,d3,O-O,O-O,a6,Nce4,b5,Bb3,Bg4,f3,Bh5,Nxd6,cxd6,Ne4,Nxe4,dxe4,Qh4,c3,Nxb3,Qxb3,f5,exf5,Rxf5,Be3,Raf8,Bf2,Qg5,Bg3,Bxf3,gxf3,Qe3+,Bf2', 'Rg5+,Kh1,Qxf3#', 'https://lichess.org/training/TxilQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tXIQ0', 'Rapid', 'Mrtwochessplayer', 1773, 'Mtal04', 1940, 'c4,Nf6,d4,c5,dxc5,e6,b4,a5,b5,Bxc5,Ba3,Ne4,Bxc5,Nxc5,Qd4,b6,Qxg7,Ke7,Nc3,Bb7,Qg5+,f6,Qg7+,Kd6,Rd1+,Kc7,Qg3+,Kc8,Qd6,f5,Nh3,Qf6,Rc1,Rg8,Qxb6,Qd4,e3', 'Nd3+,Bxd3,Qxb6', 'https://lichess.org/training/tXIQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TXJYe', 'Rapid', 'Schein-N', 1613, 'superpanda', 1671, 'e4,e6,d4,c5,c3,Nc6,Bb5,a6,Bxc6,bxc6,Be3,cxd4,cxd4,Bb4+,Nc3,Qa5,Ne2,Nf6,O-O,Bb7,f4,c5,e5,cxd4,Qxd4,Nd5,Bd2', 'Bc5,Ne4,Bxd4+', 'https://lichess.org/training/TXJYe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tXKny', 'Rapid', 'Ojas_Saharan', 2062, 'maia9', 1905, 'e4,Nf6,Nc3,d5,exd5,Nxd5,d4,Nxc3,bxc3,Bf5,Bb2,e6,Be2,Bd6,Nf3,O-O,O-O,Nd7,Bd3,Bg4,h3,Bh5,Bc1,c5,Rb1,b6,Be3,Qc7,Bxh7+,Kxh7,Ng5+,Kg6,g4,Bf4,gxh5+,Kxg5', 'Qg4+,Kh6,Bxf4+,Qxf4,Qxf4+', 'https://lichess.org/training/tXKny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('txllp', 'Classical', 'Abni476', 1835, 'whhlp', 1843, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,f5,d3,f4,O-O,Bg4,h3,h5,Re1,Nd4,Nxe5,Bxd1', 'Bf7+,Ke7,Nd5#', 'https://lichess.org/training/txllp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TxNGn', 'Rapid', 'Frohbi', 2369, 'HELLisFOREVER', 2149, 'e4,g6,g3,Bg7,Bg2,c5,Ne2,Nc6,O-O,e5,Nbc3,d6,Nd5,Be6,Nec3,Nge7,d3,O-O,Nxe7+,Nxe7,Nd5,f5,Nxe7+,Qxe7,f4,Rad8,Qe2,d5,c4,fxe4,cxd5,exd3,Qxd3,Bf5,Qc4,Kh8,Be3,b6,Rae1,e4,b4,cxb4,Rb1,Bc3,a3,a5,Bxb6,Rc8,Bd4+,Kg8,d6+,Qf7,Qxf7+,Rxf7,Be5,h5,axb4,axb4,Rfd1,Kh7,Rbc1,e3,Kf1,Ra7,Bxc3,bxc3,d7,Bxd7,Rxd7+,Rxd7,Bh3,Rd2,Bxc8,c2,Ba6', 'Rd1+,Ke2,Rxc1', 'https://lichess.org/training/TxNGn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TXOFh', 'Classical', 'Paky', 1783, 'malterobinhans', 1720, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Bd5,Nf6,Bxc6,dxc6,Nxe5,Bd6,d4,O-O,Bg5,h6,Bh4,Bxe5,dxe5,Qxd1,Rxd1,Nd5,c4,Nf4,Nc3,Bf5,Bg3,Nd3,b3,Rae8,f4,f6,exf6,Rxf6,Rd2,Rfe6,Rad1,Re3,Bf2', 'Nxf2,Kxf2,Rxc3', 'https://lichess.org/training/TXOFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Txohh', 'Rapid', 'Alex_Anaua', 1712, 'Silveerr', 1968, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Ng4,h3,h5,Bxc6,dxc6,d4,exd4,Qxd4,Qxd4,Nxd4,Nf6,c4,Bc5,Nf5,Bxf5,exf5,Ne4,Be3,Bxe3,fxe3,O-O-O,Na3,Nd2,Rf4,g5,fxg6,fxg6,Rf7,Rd7', 'Rxd7,Kxd7,Rd1,Kc8,Rxd2', 'https://lichess.org/training/Txohh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tXomr', 'Rapid', 'Fyusuf', 2033, 'ajdin_derlic', 1914, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qc7,d6,Qb6,Nf6,Bd3,O-O,O-O,Nd7,Qe3,Nb4,Nc3,Nxd3,cxd3,Nc5,Nd5,Qd8,f4,f5,fxe5,fxe4,Rxf8+,Qxf8,exd6,Qxd6,dxe4,Be6,Nf4,Rf8,Nxe6', 'Qd1+,Qe1,Qxe1#', 'https://lichess.org/training/tXomr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TxpHy', 'Classical', 'capperuccio', 2221, 'a98769876', 2180, 'd4,d5,Nf3,c6,c4,e6,e3,f5,Ne5,Nf6,Bd3,Nbd7,f4,Be7,O-O,O-O,Nc3,dxc4,Bxc4,Nd5,a3,N7f6,Bd2,Bd7,Kh1,Be8,Rg1,Bh5,Be2,Bxe2,Qxe2,Nxc3,Bxc3,Ne4,g4,Qd5,Rg2,Bh4,Be1,Bxe1,Rxe1,Rae8,Reg1,Rf6,gxf5', 'Ng3+,hxg3,Rh6+,Qh5,Rxh5#', 'https://lichess.org/training/TxpHy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('txPVo', 'Blitz', 'Macko09', 2233, 'Atahan_2006', 2335, 'e4,c5,Nf3,Nc6,Bc4,d6,h3,g6,O-O,Bg7,d3,e6,Nc3,Nge7,Bg5,O-O,Qd2,a6,a4,Qc7,Bh6,f5,Bxg7,Kxg7,exf5,Nxf5,Rfe1,Nfd4,Nxd4,Nxd4,Ne2,Nf5,Nf4,e5,Ne6+,Bxe6,Bxe6,Nd4,Bd5,Qe7,c3,Nf5,Be4,Qf6,Bxf5,gxf5,Re3,Kh8,Rg3,f4,Rg4,Rg8,f3,h5,Rxg8+,Rxg8,Rd1,Qf5,d4,Qxh3,dxe5,dxe5,Qe2,Qe6,Re1,Re8,Kf2,Qg6,Rh1,Qg3+,Kf1,h4,Rh3,Qg5,Qf2,Rd8', 'Rxh4+,Kg7,Rg4,Qxg4,fxg4', 'https://lichess.org/training/txPVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TxqLX', 'Classical', 'klyuchnik-1974', 1717, 'AleksandrStarshinin', 1742, 'b4,e5,b5,c6,c4,d5,Bb2,Bd6,e3,Bf5,Nf3,Nd7,cxd5,cxd5,Be2,Ngf6,Nc3,Rc8,O-O,O-O,a4,Bb8,d4,e4,Nd2,Qc7,g3,Bh3,Re1,Nb6,f3,Nh5,f4,Nf6,a5,Nbd7,Qb3,Qd6,Ba3,Qe6,Bxf8,Nxf8,a6,b6,Bf1,Ng6,Bxh3,Qxh3,Nxd5,Ng4,Re2,h5,Nxe4,Nh6,Ng5,Qf5,e4,Qg4,Rae1,Bxf4,Nxf4,Nxf4,Rf2,Nh3+,Nxh3,Qxh3,Ref1,Ng4,Qxf7+,Kh8,Re2,Rc3,Qg6,Rxg3+,hxg3,Qxg3+,Rg2,Qe3+,Rff2,Qe1+,Rf1,Qe3+,Rgf2,Qg3+,Kh1', 'Nxf2+,Rxf2,Qxg6', 'https://lichess.org/training/TxqLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TXRoC', 'Rapid', 'coopersafe', 2125, 'silver777888', 1825, 'd4,d5,c4,dxc4,e4,b5,a4,Bd7,axb5,Bxb5,Na3,c6,Nxb5,cxb5,b3,Nc6,d5,Ne5,Qd4,f6,bxc4,bxc4,Bxc4,e6,Bb5+,Kf7,Rxa7+,Rxa7,Qxa7+,Kg6,Qe3', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/TXRoC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TXrVz', 'Rapid', 'SavvasPitsi', 1802, 'oj33', 1880, 'e4,e5,Nf3,Nf6,Bc4,Nc6,d3,h6,c3,Bc5,O-O,d6,h3,O-O,Be3,Bb6,Bb3,Be6,Bc2,d5,exd5,Nxd5,Bxb6,axb6,d4,f6,dxe5,fxe5,Qd3,Nf6,Qg6,Bf7,Qg3,e4,Nh2,Ra5,h4,Bc4,Rd1,Rd5,Na3,Be2,Rxd5,Qxd5', 'Bb3,Qxb3,axb3', 'https://lichess.org/training/TXrVz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TXTjl', 'Rapid', 'like96', 1955, 'whatever128', 1894, 'e4,c5,Nf3,d6,Be2,Nf6,d3,Nc6,O-O,g6,c3,Bg7,a4,O-O,h3,a6,Be3,b5,axb5,Ne5,bxa6,Bxa6,Nxe5,dxe5,Bxc5,Qc7,d4', 'Bxe2,Rxa8,Bxd1', 'https://lichess.org/training/TXTjl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TXuGi', 'Blitz', 'junblitz', 1866, 'afternonses0111a', 1655, 'd4,e5,dxe5,f6,exf6,Nxf6,Bd2,Bc5,Bc3,O-O,Nf3,c6,Qd3,Bxf2+,Kxf2,Qb6+,Bd4,c5,Qc4+,d5,Bxc5,Ne4+,Ke1,Nxc5,Qxd5+,Be6,Qd4,Nbd7,Nbd2,Rad8,Nb3,Bxb3,axb3,Nf6,Qc4+,Kh8,Rd1,Rc8,Ng5,Nce4,Nf7+,Rxf7,Qxc8+,Ng8,Rd8,Qf2+,Kd1', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/TXuGi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('txUyq', 'Rapid', 'glanzeh', 1704, 'johanr', 1608, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,Ng4,d4,exd4,cxd4,Bb4+,Nc3,O-O,h3,Nf6,e5,Re8,O-O,Bxc3,bxc3,Nh5,Bg5,Ne7,g4,h6,Bxe7,Qxe7,gxh5,Qa3,Qd3,d6,exd6,Qxd6,Bb3,Bxh3,Rfe1,Qf4,Bc2', 'Qg4+,Kh2,Qg2#', 'https://lichess.org/training/txUyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TXVJ0', 'Classical', 'Jan7dar', 1760, 'agustinduarte', 1689, 'd4,g6,Bf4,Nf6,e3,Bg7,a3,d6,c4,Nbd7,Nc3,Nc5,dxc5,O-O,cxd6,cxd6,Nf3,Qb6,b4,Nd7,Qc2,a5,b5,a4,Ra2,Qa5,Kd2,Nc5,Rb2,Bxc3+,Ke2,Bf5,Qc1,Bxb2,Qxb2,e5,Bh6,Rfc8,Nxe5,dxe5,Qxe5,Ne6,Kf3,Rxc4,Bxc4,Qc7,Qc3,Rc8,Rc1,Qe7,e4,Ng5+,Bxg5', 'Qxe4+,Kg3,Qg4#', 'https://lichess.org/training/TXVJ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TXW9k', 'Rapid', 'jdhgh71', 1834, 'Paky', 1746, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Bd3,e5,Qe3,Nf6,O-O,Be7,f4,b6,f5,d5,exd5', 'Bc5,Qxc5,bxc5', 'https://lichess.org/training/TXW9k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TxwCO', 'Classical', 'HKG1997', 2162, 'geraldtoh', 1994, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,e5,Bd3,Be6,Qe2,Nf6,f3,h6,Be3,Be7,O-O,O-O,Rad1,Qc7,Bc4,Rfd8,Bxe6,fxe6,Rd2,d5,Na4,d4,Bf2,Qa5,b3,Bb4,Rd3,c5,Rdd1,Nh5,Qc4,Rd6,a3,Bxa3,c3,Qa6,Ra1,Qxc4,bxc4,dxc3,Rxa3,c2,Ra2,Rd2,Rc1', 'Rd1+,Be1,Rxc1', 'https://lichess.org/training/TxwCO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('txxsQ', 'Blitz', 'itsamdy', 1856, 'EmperorVishvajit', 1867, 'd4,Nf6,Bf4,g6,Nd2,Bg7,e4,O-O,h3,d6,c4,Nc6,Ngf3,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Bh6,g3,Qd7,Bg2,Rd8,Bc3,b6,f4,Bb7,Bxf6,Qd3,Bxd8,Rxd8,Qc2,Qxg3+,Kf1,Bxf4,Nf3,Rd2,Nxd2,Ba6,b3,b5,Nf3,bxc4,bxc4,Be3,Rd1', 'Bxc4+,Rd3,Bxd3+,Qxd3,Qf2#', 'https://lichess.org/training/txxsQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('txXVO', 'Rapid', 'Rico_Bombeiro', 1914, 'razmik1', 1635, 'e4,e5,Nf3,Nc6,Bc4,Na5,Bb5,c6,Ba4,b5,Bb3,Nxb3,axb3,d6,d3,a5,h3,Nf6,Bg5,Be7,Nc3,O-O,O-O,Nh5,Bxe7,Qxe7,Nh2,Nf4,Qf3,f5,Ne2,fxe4,dxe4', 'Nxh3+,gxh3,Rxf3', 'https://lichess.org/training/txXVO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tXxWM', 'Rapid', 'Mitchell1998', 1951, 'VRemezy', 2046, 'e4,e5,f4,d6,Nf3,Bg4,fxe5,dxe5,Nc3,Nf6,d3,Bb4,Bd2,O-O,h3,Bxf3,Qxf3,Nbd7,O-O-O,c6,g4,Qa5,Kb1,Ne8,h4,f6,h5,h6,Bh3,Nd6,Qg2,Nb6,g5,fxg5,Bxg5,hxg5,Qxg5,Bxc3,bxc3,Qxc3,Rhg1,Rf7,Be6,Kf8,Bxf7,Nxf7,Qxg7+,Ke7,h6,Na4,Kc1,Qa3+,Kd2,Nb2,Rdf1,Rf8,h7,Qb4+,c3,Nc4+,dxc4,Qb2+,Ke3,Qxc3+,Kf2,Qd2+,Kg3,Qe3+,Kh2,Qe2+,Qg2,Qh5+,Qh3,Qe2+,Kh1,Qxe4+,Rg2,Rh8,Qh5', 'Rxh7,Qxh7,Qxh7+', 'https://lichess.org/training/tXxWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tXYw2', 'Classical', 'nikitalebedev2005', 1838, 'unerriar', 1808, 'd4,d6,Bf4,Nf6,Nf3,Nc6,e3,h6,Bb5,Bd7,Nc3,a6,Bd3,b5,Ne4,e6,Nxf6+,Qxf6,c3,Be7,O-O,g5,Bg3,e5,Be4,O-O-O,dxe5,Nxe5,Nxe5,dxe5,Qd5,c6,Qxe5,Qxe5,Bxe5,Rhe8,Bc2,f6,Bg3,Be6,Bb3,Bc5,Bxe6+,Rxe6,Rfd1,Rde8,Rd2,f5,h3,Re4,b4,Bb6,Rd6,f4,exf4,gxf4,Bh4,Re1+,Rxe1,Rxe1+,Kh2,f3,gxf3', 'Bc7,Bg3,Bxd6', 'https://lichess.org/training/tXYw2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tXzp7', 'Rapid', 'Haris1983', 1877, 'saeednm', 1839, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,g4,e5,Nf5,g6,Nxd6+,Qxd6,Qxd6,Bxd6,g5,Nh5,Be3,Be6,Bd5,Nc6,O-O-O,Rc8', 'Bxe6,fxe6,Rxd6', 'https://lichess.org/training/tXzp7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ty7yt', 'Blitz', 'Zebrita', 1568, 'princepersia', 1623, 'e4,c5,Nf3,Nc6,c3,d6,Bb5,Bd7,d3,a6,Ba4,b5,Bc2,Nf6,O-O,g6,Re1,Bg7,Bg5,O-O,Qd2,b4,Bh6,a5,Bxg7,Kxg7,Qg5,Bg4,Nh4,Qd7,f3,Be6,Nd2,bxc3,bxc3,Rab8,Nb3,a4,Nd2,Nd8,Bxa4,Qxa4,f4,Rb2,f5,Bxa2,fxg6,Ne6,Nf5+,Kh8', 'g7+,Nxg7,Qxg7#', 'https://lichess.org/training/ty7yt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TYaZV', 'Rapid', 'Joker026', 1610, 'monkeymaniac', 1607, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,c3,dxc3,O-O,cxb2,Bxb2,d6,Qb3,Qe7,Nc3,b6,Nd5,Qd7,Bb5,Bb7,e5,O-O-O,exd6,Qxd6,Ba3,Qxd5,Qxd5,Rxd5,Bxc6,Bxc6,Bxf8,Nf6,Bxg7,Rg5,Bxh8,Bxf3,Bxf6', 'Rxg2+,Kh1,Rg8#', 'https://lichess.org/training/TYaZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tYbCK', 'Blitz', 'goingtowinliketal', 1958, 'Mesias64', 1950, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,a6,Bb3,Be7,Be3,d5,exd5,exd5,d4,c4,Ba4,b5,Nc3,Qa5,Nd2,bxa4,O-O,Nf6,Qf3,O-O,Rfe1,Rb8,b3,Qxc3,bxc4,Bg4,Qg3,Nxd4,Bxd4,Qxd4,Rxe7,Qxa1+,Nf1,Rb1,Qd3,dxc4,Qxc4,Rd8', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/tYbCK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tYbVI', 'Blitz', 'miguelnm', 1920, 'jneoshams2', 1790, 'e4,g5,d4,g4,Qxg4,d5,Qh4,dxe4,Qxe4,Nf6,Qe5,Bd7,d5,c6,d6,e6,Bg5,Bg7,Nc3,Kf8,O-O-O,Nd5,Qg3,Qa5,Nxd5,cxd5,Be7+,Kg8,Qb3,Bc6,Nf3,Nd7,Bd3,Nc5,Qa3,Nxd3+,Rxd3,Qb6,Ng5,h6,Nxe6,fxe6,Rg3,Rf8,Rxg7+,Kxg7,Qg3+,Kf7,Bxf8,Rxf8,Qf4+,Ke8,Qxh6,Qxf2', 'Qxe6+,Kd8,Qe7+,Kc8,Qc7#', 'https://lichess.org/training/tYbVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tYcRa', 'Classical', 'sherifafifi1988', 1890, 'The_whys_guy', 1733, 'e4,e6,d4,c5,d5,d6,Nc3,Nf6,Bg5,Be7,dxe6,Bxe6,Bb5+,Nbd7,Nf3,a6,Bxd7+,Qxd7,Bxf6,Bxf6,Nd5,Bxb2,Rb1,Ba3,Nb6,Qc6,Nxa8,Qxe4+,Qe2,Bb4+,Kf1', 'Bc4,Qxc4,Qxc4+', 'https://lichess.org/training/tYcRa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TYDdB', 'Rapid', 'migos1942', 1729, 'Unknown_Master459', 1720, 'd4,e6,Nc3,d5,a3,c5,dxc5,Bxc5,Bd2,Nc6,e3,Qb6', 'Na4,Qc7,Nxc5', 'https://lichess.org/training/TYDdB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tYdHy', 'Rapid', 'LucidChess', 2197, 'tokiototo', 2065, 'c4,e6,g3,d5,Bg2,d4,Nf3,Nc6,O-O,Bc5,e3,Nge7,a3,a5,d3,O-O,exd4,Nxd4,Nc3,Nef5,Ng5,f6,Nge4,Be7,Be3,c6,Rb1,e5,b4,axb4,axb4,Be6,b5,Bf7,bxc6,bxc6,Rb7,Kh8,Qb1,Bh5,Nd2,Ne2+,Nxe2,Bxe2,Be4,Nxe3,fxe3,Bxf1,Qxf1,Bc5,Qh3,Bxe3+,Kh1,f5,Bxf5,Rxf5,Qxf5,Bxd2,Qxe5,Qf6', 'Rb8+,Qd8,Rxd8+', 'https://lichess.org/training/tYdHy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TyeOz', 'Rapid', 'Shinsekai', 1703, 'Gagaxy', 1797, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,Qc7,Nd5,Nxd5,exd5,Nd7,O-O,g6,Re1,Bg7,Nc6,Ne5,Nxe5,Bxe5,c3,O-O,Bh6,Re8,f4,Bg7,Bxg7,Kxg7,Qd4+,Kg8,Re3,a5,Rae1,a4,Bc2,Ra7,Qe4', 'Bf5,Qd4,Bxc2', 'https://lichess.org/training/TyeOz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tyf1c', 'Rapid', 'Enets', 1832, 'ambis11', 1792, 'Nf3,d5,e3,c5,d4,Nc6,c4,Bg4,Be2,dxc4,Bxc4,cxd4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nf6,Qe6', 'Qa5+,Bd2,Qxg5', 'https://lichess.org/training/tyf1c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tYgOV', 'Rapid', 'HMSMungo', 1956, 'StoicREH', 1943, 'e4,c5,a3,d5,exd5,Nf6,c4,b5,Nf3,bxc4,Bxc4,Bd7,O-O,g6,Re1,Bg7,Qb3,O-O,Nc3,a5,Na4,Na6,Bxa6,Rxa6,Nxc5,Rb6,Qc2,Bf5,d3,Nxd5,Ra2,Rc6,Be3,Nxe3,fxe3,Bxd3,Qc1,Qc8,b4,axb4,axb4,Be4,Nd4,Qg4,Qd2,Bd5,Nxc6,Bxa2,Qxa2,Bf6,Qd2,Ra8,b5,Qc4,Rc1,Qxb5,Nd7,Bg5,Nde5,Qb6,Kf2,Ra3,Qd8+', 'Qxd8,Nxd8,Bxe3+,Kf1,Bxc1', 'https://lichess.org/training/tYgOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TygQm', 'Classical', 'NataliyaM2016', 1721, 'AnastasiaRimliand', 1714, 'e4,e5,Bc4,Nf6,Qf3,Nc6,c3,Bc5,h3,O-O,d3,Na5,b4,Nxc4,dxc4,Be7,a4,c6,c5,d5,cxd6,Bxd6,Ne2,a5,O-O,axb4,Rd1,Qe7,cxb4,Bxb4,Na3,Rxa4,Bb2,Be6,Ng3,Rfa8,Nc2,Rxa1,Rxa1,Rxa1+,Nxa1,Bc4,Nc2,Bc5,Nf5,Qd7,Nce3,Bxe3,Qxe3,Qd3,Ne7+,Kf8,Qxd3,Bxd3,Ba3,Ke8,f3,Nd7,Nf5,g6,Nd6+,Kd8,Nxb7+,Kc7,Nd6,c5,Nxf7,h6,Kf2,c4,Ke3,Kc6,Nd8+,Kb5,Ne6,Ka4,Bc1,Kb3,Nc7,Kc2,Ba3,Nb6,Nb5,Na4,Bd6,c3', 'Na3+,Kb3,Kxd3', 'https://lichess.org/training/TygQm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TyGsy', 'Classical', 'Maxim9871', 1749, 'ELMIR029', 1665, 'd4,e6,Nc3,Nc6,d5,exd5,Nxd5,d6,Bf4,Nf6,Bg5,h6,Bxf6,gxf6,Nf3,Be6,Nf4,Qe7,Nxe6,Qxe6,e3,O-O-O,Bb5,Ne5,Nxe5,dxe5,Qf3,Qb6,Qf5+,Kb8,Bc4', 'Qb4+,c3,Qxc4', 'https://lichess.org/training/TyGsy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TYimJ', 'Classical', 'AlmostRealKimJongUn', 1928, 'iiivad', 1884, 'Nf3,Nf6,b3,g6,Bb2,Bg7,e3,Nc6,Bb5,Na5,d4,a6,Be2,d5,c4,e6,Ba3,Nc6,Nbd2,Ne7,Ne5,O-O,Qc2,Re8,Bf3,c6,Rc1,Nd7,Nd3,Nf5,Bg4,Ne7,f4,f5,Bh3,Nf6,Nf2,h5,Nf3,Bf8,Ne5', 'Qa5+,Qc3,Qxa3', 'https://lichess.org/training/TYimJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tYiON', 'Rapid', 'milkboy_rahman', 1903, 'rook-move', 1875, 'd4,d5,e4,dxe4,Nc3,Bf5,f3,exf3,Qxf3,Bc8,Bc4,e6,Nge2,Nf6,Bg5,Be7,O-O,Nc6,Ne4,Nxe4,Qxf7+,Kd7,Bxe6+,Kd6,Bf4+,Ne5,dxe5+,Kc6,Rad1,Qf8,Bd5+,Kb6,Be3+,Ka6,Bc4+,Ka5,Qd5+,Nc5,Bd2+,Kb6,Rxf8,Rxf8,b4,Be6,bxc5+,Bxc5+,Kh1,Bxd5,Bxd5,Rad8,Rb1+,Ka6,Bc4+,b5,Rxb5', 'Rf1+,Ng1,Rxg1#', 'https://lichess.org/training/tYiON');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tYIPA', 'Rapid', 'Tapyrr', 1746, 'womanizer', 1787, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Bf5,e3,e6,cxd5,exd5,g4,Bxg4', 'Bxf6,Qxf6,Qxg4', 'https://lichess.org/training/tYIPA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tyJ3Z', 'Rapid', 'Ilijadrazic', 1860, 'AbdAllahBa', 1783, 'd4,Nf6,c4,e6,Nf3,d5,c5,Be7,g3,O-O,Bg2,b6,cxb6,axb6,O-O,Nbd7,b3,c5,dxc5,bxc5,Bb2,Bb7,Nbd2,Qb6,Re1,Rfc8,Ne5,Nxe5,Bxe5,Ng4,Bb2,Bf6,Bxf6,Nxf6,e3,Rd8,Nf3,h6,Ne5,Qb4,Qc2,Ne4,Bxe4,dxe4,Rec1,Rd2,Qxc5', 'Rd1+,Rxd1,Qxc5', 'https://lichess.org/training/tyJ3Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TyjSz', 'Rapid', 'Lichu2', 1542, 'Malcom-c2', 1558, 'd4,g6,Nf3,Bg7,e3,d5,Nc3,Nf6,Bd3,Bg4,h3,Bxf3,Qxf3,a6,O-O,Nbd7,b4,b5,a4,O-O,axb5,axb5,Rxa8,Qxa8,Nxb5,Qa4,c3,c6,Na3,e5,Bc2,Qa7,dxe5,Nxe5,Qf4,Nh5,Qh4', 'Bf6,Qd4,Nf3+,gxf3,Bxd4', 'https://lichess.org/training/TyjSz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TYlMe', 'Rapid', 'limuelbelizardo', 1952, 'arupsaha', 1884, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nf6,Nxe5,Nxe5,d4,Nxe4,dxc5,Nxc5,Qd5,Qe7,Re1,c6', 'Qxe5,Qxe5,Rxe5+', 'https://lichess.org/training/TYlMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tyMa3', 'Blitz', 'YSA_kbpl', 2321, 'IM Arathorn2', 2451, 'e4,c5,Nf3,d6,Bb5+,Nd7,d4,Nf6,O-O,cxd4,Qxd4,e5,Qd3,h6,c4,Be7,Nc3,O-O,Be3,Qc7,Rac1,Nc5,Bxc5,Qxc5,Nd5,Nxd5,cxd5,Qb6,Bc4,Qxb2', 'Rb1,Qb6,Rxb6', 'https://lichess.org/training/tyMa3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tymo6', 'Rapid', 'Anton_Kutsenko', 1629, 'demidror2', 1650, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Nf6,d3,Be7,O-O,O-O,d4,a6,e5,d5,exd6,Qxd6,Bd3,cxd4,Ne2,e5,Bg5,Bg4,Bxf6,Bxf6,Ng3,Rfe8,Re1,Bh4,Ne4,Qh6,h3,Bxf3,Qxf3,g6,g3,Be7,Bc4,Rf8,h4,b5,Bd5,Rac8,Kg2,Nb4,Bb3,Nxc2,Bxc2,Rxc2,Rh1,f5,Ng5,e4,Qb3+,Rc4,Rac1,Bxg5,hxg5,Qxg5,Rxc4,bxc4,Qxc4+,Rf7,Qc8+,Rf8,Qc4+,Rf7,Qxd4,Qf6,Qd2,Kg7,Qd5,h5,Qd2,f4,gxf4,Qxf4,Qd4+,Rf6,Rf1,Qf3+,Kg1,Qg4+,Kh1,Qf3+,Kg1,Kh7,Qd7+,Kh6,Qd2+,g5,Qd8,e3,Qh8+,Kg6,Qg8+,Kf5', 'fxe3,Qxf1+,Kxf1', 'https://lichess.org/training/tymo6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TYp1h', 'Rapid', 'TRONz', 1698, 'El-marapha', 1615, 'd4,d5,Bf4,Nf6,e3,Bf5,c3,Nc6,Nf3,e6,Nbd2,Ne4,Bd3,Bd6,Ne5,Bxe5,Bxe5,Nxe5,Nxe4,Nxd3+,Qxd3,Bxe4,Qb5+,c6,Qxb7,O-O,Qb3,Rb8,Qd1,Bxg2,Rg1,Be4,Qg4,g6,h4,h5,Qg3,Qf6,Kd2,Qf3,Qxf3,Bxf3,Rg3,Bg4,b3,Rbe8,Rc1,e5,f3,Bf5,Rg5,exd4,cxd4,f6,Rgg1,Kh7,Rxc6,Re6,Rc7+,Kh6,Rxa7,Rfe8,Re1,R8e7,Ra8,Re8,Ra7,g5,hxg5+,fxg5,a4,h4,b4,h3,b5,g4,fxg4,Bxg4,a5,Bf3,Rf7,Be4,Re2,Rg8,Rff2,Rg2,Rxg2,hxg2,Re1,Rg6,Rg1,Rf6,b6,Rf2+,Ke1,Ra2', 'b7,Rb2,a6,Kg5,a7,Rxb7,a8=Q', 'https://lichess.org/training/TYp1h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('typ8C', 'Rapid', 'GudVik37', 1839, 'caldare', 1825, 'e4,c5,Nf3,Nc6,Nc3,d6,Bc4,Nf6,O-O,g6,d4,cxd4,Nxd4,Bg7,f4,O-O,Be3,a6,Kh1,Ng4,Bg1,Bd7,f5,Nge5,Bb3,b5,fxg6,hxg6,Nf3,Nxf3,Qxf3,Ne5,Qf4,Rc8,Nd5,Nc4,Bxc4,Rxc4,c3,Bc6,Qg5,e6', 'Ne7+,Qxe7,Qxe7', 'https://lichess.org/training/typ8C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tYQOg', 'Blitz', 'IM sherlock1888', 2518, 'JHUNJiGz', 2391, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,c6,Bd3,h6,Bh4,O-O,Qc2,Be6,Nf3,Nbd7,O-O-O,b5,Kb1,a5,h3,a4,g4,b4,Nxa4,Qa5,b3,c5,dxc5,Nxc5,Nxc5,Bxc5,Bxf6,gxf6,Nd4,Rfc8,Nxe6,fxe6,Rc1,Kg7,h4,Bxe3,Qxc8', 'Qxa2#', 'https://lichess.org/training/tYQOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TyQrq', 'Rapid', 'harrylime', 2275, 'sisyphos33', 2341, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Be3,Bxe3,fxe3,d5,exd5,Nxd5,Qe2,O-O,Nbd2,a6,a3,Nb6,Ba2,Qe7,O-O,Be6,Bxe6,Qxe6,e4,Rad8,Nb3,Na4,Rab1,Qd6,Qe3,f6,Nh4,Nd4,Nxd4,Qxd4,Qxd4,Rxd4,Nf5,Rd7,Rf3,c5,Ne3,Nb6,b3,Rfd8,a4,Nc8,Nd5,Ne7,c4,Nc6,Rg3,Kf7,Kf2,Nd4,b4,Rc8,bxc5,Rxc5,Re3,b5,axb5,axb5,cxb5,Nxb5,Re2,Nc3,Rc1', 'Nxe4+,dxe4,Rxc1', 'https://lichess.org/training/TyQrq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tyrhq', 'Rapid', 'Navaneb', 1691, 'miffymishra', 1692, 'e4,c5,Nf3,Nc6,Bc4,Nf6,c3,d5,exd5,Nxd5,Bb5,Bd7,O-O,e6,Re1,Be7,d4,cxd4,Bxc6,Bxc6,Nxd4,Qb6,Qg4,g6,Qe2,O-O,Bh6,Rfe8,Na3,Qd8,Nc4,Bg5,Nxc6,bxc6,Bxg5,Qxg5,Qf3,Red8,Ne5,Nf4,Nxc6,Rf8,g3,Nd5,Rad1,Qf5,Qxf5,gxf5,c4,Nb6,b3,Kg7,Nb4,Rac8,Rd4,a5,Nd3,Rcd8,Rxd8,Rxd8,Nf4,Rd2,Re2,Rd1+,Kg2,Nd7,a3,Nc5,b4,Ne4,c5,axb4,axb4,Rb1,Nd3,Rb3,Re3,Nf6,c6,Nd5,Rf3,Nxb4,Nxb4,Rxb4,Rc3,Rb8,c7,Rc8,Kf3,Kf8,Kf4,Ke7,Ke5,Kd7', 'Kf6,Rxc7,Rxc7+', 'https://lichess.org/training/tyrhq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TyT1n', 'Rapid', 'AlexGonzales_UNSCH', 2150, 'Pavelissio24', 2044, 'e4,e5,Nf3,Nf6,d3,d6,h3,Nc6,c4,Bd7,Nc3,Be7,a3,Nd4,Be3,c5,Be2,O-O,b4,b6,b5,a6,a4,axb5,Bxd4,exd4,Nxb5,Bxb5,axb5,Qd7,O-O,Qb7,e5,dxe5,Nxe5,Bd6,Rxa8,Rxa8,Bf3,Qb8,Bxa8,Bxe5,Bc6,g6,Qa4,Kg7,Ra1,Nh5,Qd1,Bh2+,Kh1,Bd6,Qg4,Nf4,Ra8,Qc7,Rc8,Qe7,Re8,Qa7,Qd7,Qa1+,Kh2', 'Ne2+,Qxd6,Qg1#', 'https://lichess.org/training/TyT1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TYTEr', 'Rapid', 'sinarc', 1729, 'kowabounga', 1694, 'e4,e5,Nf3,Bc5,Bc4,d6,Nc3,c6,Na4,Bxf2+,Kxf2,b5,Bxf7+,Kxf7,Nc3,Nf6,h3,Rf8,d3,h6,b4,Kg8,Rf1,Nh5,Kg1,Nd7,Nxe5,Rxf1+,Kxf1,Ng3+,Kf2,Qh4,Nf3,Nxe4+,Kg1,Qf2+,Kh2,Qg3+,Kg1,Ne5', 'Nxe4,Nxf3+,Qxf3,Qxf3,gxf3', 'https://lichess.org/training/TYTEr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TytID', 'Rapid', 'chesstobal', 1672, 'ricsersa', 1601, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nf3,Bg4,Nc3,Nc6,Bb5,Be7,h3,Bxf3,Qxf3,Nf6,O-O,O-O,Bg5,Nd4,Qd3,a6,Bc4,b5,Bd5', 'Nxd5,Nxd5,Bxg5', 'https://lichess.org/training/TytID');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TytjT', 'Rapid', 'atialtun', 1675, 'realgee', 1767, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,e5,Qa5+,Bd2,Qxe5+,Be2,Qxb2,Nc3,Bb4,Rb1,Qa3,Rb3,Qa5,O-O,Nf6,f3,O-O,Ne4,Bxd2,Nxd2,Nd5,Nc4,Qxa2', 'Ra3,Qxa3,Nxa3', 'https://lichess.org/training/TytjT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TYU0K', 'Rapid', 'juansalvador1979', 1891, 'Gumija', 1735, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Bd3,O-O,h3,Re8,O-O,Nd7,Nd4,d5,Nf5,Nf6,Nxe7+,Rxe7,Bg5,Qd6,Qf3,Re6,Rae1,Ne4,Bxe4,dxe4,Rxe4,h6,Bf4,Qc6,Rxe6,Qxf3', 'Re8+,Kh7,gxf3', 'https://lichess.org/training/TYU0K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tYuQM', 'Blitz', 'fbatch', 1505, 'paras_anil', 1576, 'e4,c5,Nf3,d6,c3,Nf6,d3,g6,Nbd2,Bg7,d4,cxd4,cxd4,Nc6,d5,Nb4,a3,Na6,Bd3,O-O,O-O,Nc5,Bc2,Qb6,b4,Ncd7,Nc4,Qc7,Na5,Nxe4,Rb1,Nc3,Qd3,Nxb1,Bxb1,b6,Nc6,Bb7,b5,e6,Ba2,Rfe8,a4,Nc5,Qc2,a6,Bb2,Bxb2,Qxb2,Nxa4,Qc1,axb5,Qh6,Nc5,Ng5,f5,dxe6,Bxc6', 'e7+,Rxa2,Qxh7#', 'https://lichess.org/training/tYuQM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TyVQ8', 'Rapid', 'Tariktlm', 1771, 'jakhran1', 1734, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,a5,d4,exd4,cxd4,Ba7,d5,Nce7,O-O,d6,e5,Bg4,h3,Bh5,e6,Nf6,Bg5,fxe6,dxe6,d5,Bd3,O-O,g4,Bg6,Ne5,Bxd3,Qxd3,Ne4,Bh4,Qd6,Nc3,Qxe5,Bxe7,Rxf2,Rxf2,Nxf2,Qf3,Nxh3+,Kg2,Nf4+,Kf1,Re8,Re1,Qd4,Ne2,Nxe2', 'Qf7+,Kh8,Qxe8#', 'https://lichess.org/training/TyVQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tYWUm', 'Rapid', 'elgranvirgilio', 2019, 'LevPiskonov', 2053, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,O-O,O-O,Re1,Ng6,Bg5,f6,Bxg6,fxg5,Bd3,g4,Ne5,Qg5,Qd2,Qh4,g3,Qf6,c3,Nd7,Nxd7,Bxd7,Re3,Rae8,Rxe8,Rxe8,Kf1,Qf3,Kg1,h5,b4,h4,Na3,hxg3,hxg3,Re6,Bf1,Rf6,Bg2,Qf5,Nc2,Rh6,Ne3,Qh5,Bxd5+,Kh8,a4,Qh2+,Kf1,Bxg3,Ke1,Bf4,Ke2,g3,Qe1,gxf2,Qxf2,Qxf2+,Kxf2,Rh2+,Kf3,Bh6,Re1,c6,Bc4,Bg5,Re2,Rh1,a5,a6,Kg3,Rg1+,Kf2,Ra1,Kf3,Ra3,Rh2+,Bh6,Nd1,Ra1,Ne3,Rc1,Rc2', 'Bxe3,Rxc1,Bxc1', 'https://lichess.org/training/tYWUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tYY3b', 'Blitz', 'Spirit_of_Fire', 1791, 'djoot', 1904, 'e4,g6,Nf3,Bg7,d4,d6,Bg5,Nf6,Bd3,O-O,Qd2,Na6,Bh6,c5,Bxg7,Kxg7,e5,Ng8,exd6,exd6,dxc5,Re8+,Be2,Nxc5,O-O,Qf6,Nc3,Bg4,Nd5,Qxb2,Nc7,Rxe2,Qxe2,Rc8,Nd5,Ne6,h3,Bxf3,Qxf3,Rxc2,Rab1,Nd4,Qf4,Ne6,Qb4,Qxb4,Rxb4,Rxa2,Rxb7,a5,Ra7,a4,Nb4,Ra3,Nc2,Ra2,Ne3,Nc5,Nd5,Nf6,Nxf6,Kxf6,Re1,a3,Ree7,Ra1+,Kh2,a2,Rxf7+,Ke5,f4+,Ke4,Rxh7,Kxf4,Rh4+,Ke5,Re7+,Kf6,Re2,Nb3,Rf4+,Kg7,Re7+,Kh6,Rh4+,Kg5,Rg4+,Kf6,Re2,Rh1+,Kxh1,a1=Q+,Kh2,Qa7,Rf4+,Kg7,Rfe4,Qa3,Re7+,Kf6,R2e3,Qb4,Re8,d5,Rf8+,Kg7,Ref3,d4,g4,Qd6+,Kg2,d3,g5,Qd5,Kg3,Qe5+,Kg4,Qe4+,Kg3,Qe1+,Kg4,Qe4+,Kg3,Qe5+,Kf2,Qxg5', 'R3f7+,Kh6,Rh8#', 'https://lichess.org/training/tYY3b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TYywK', 'Rapid', 'chessshogun', 1733, 'Aagneya', 1696, 'd4,Nf6,c4,e6,e3,c5,dxc5,Bxc5,a3,d5,b4,Bd6,Bb2,dxc4,Bxc4,O-O,Nf3,Nc6,Nbd2,a5,bxa5,Nxa5,Be2,b6,Nc4,Nxc4,Bxc4,Bb7,O-O,Bd5,Bxf6,Qxf6,Bxd5,exd5,Qxd5,Rad8,Qb5,Bc5,a4,Rd5,h3,Qg6,a5,bxa5,Ra4,Rf5', 'Nh4,Qb6,Qxb6,Bxb6,Nxf5', 'https://lichess.org/training/TYywK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TyZ1F', 'Classical', 'wineiseis', 1929, 'chessjedi', 1945, 'd4,Nf6,c4,e5,dxe5,Ng4,e4,Nxe5,f4,Nec6,Nf3,Bb4+,Bd2,Qe7,Bd3,Bxd2+,Qxd2,d6,Nc3,Nd7,Nd5,Qd8,O-O,Nf6,Rfe1,O-O,Nxf6+,Qxf6,h3,Nd4,Nxd4,Qxd4+,Kh1,Be6,e5,Bxc4', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/TyZ1F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TYZyu', 'Rapid', 'AASH-Chess', 2215, 'Metamover', 2105, 'd4,e6,c4,Bb4+,Nc3,f5,g3,Nf6,Bg2,O-O,Nf3,Nc6,O-O,Ne7,Qb3,Bxc3,Qxc3,Ne4,Qc2,Rb8,b3,b6,Nd2,Nxd2,Bxd2,Bb7,a4,Bxg2,Kxg2,a5,f3,Ng6,e4,fxe4,fxe4,Qe7,Qd3,Rxf1,Rxf1,Rf8,h4,Rxf1,Qxf1,Qf7,Qxf7+,Kxf7,h5,Ne7,d5,exd5,exd5,d6,g4,g6,Kf3,gxh5,gxh5,Nf5,Bc3,Nh6,Kf4,Ng8,Kf5,Ne7+,Kg5,Ng8,Bd4,h6+,Kf5,Ne7+,Kg4,Ng8,Bc3,Nf6+,Kh4,Ne4,Bb2,Nc5,Kg4,Nxb3,Kf5,Nc5,Bc1,Kg7,Be3,Nxa4,Ke6,Nb2', 'Bd4+,Kf8,Bxb2', 'https://lichess.org/training/TYZyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tz1gQ', 'Rapid', 'Jacobanyang', 1692, 'SioNo', 1695, 'd4,d5,Nf3,Nf6,Bf4,e6,c3,c5,dxc5,Bxc5,e3,Nc6,Bb5,O-O,Bxc6,bxc6,O-O,Ba6,Re1,Qb6,b4,Be7,Bg5,h6,Bh4,Qd8,Ne5,Bb7,a4,Ne4,Bxe7,Qxe7,Nd2,Nxc3,Qc2,Qxb4,Nd3,Qa5,Nb3,Qc7,Qxc3,c5,Qxc5,Qxc5,Nbxc5,Bc6,Ne5,Rfc8,Rec1,Be8,h3,Rc7,Na6,Rxc1+,Rxc1,Bxa4,Rc7,f6,Nf3,Bb5,Nc5,e5,Kh2,a5,Nd2,a4,Rb7,Bc4,Nxc4,dxc4,Rb4,a3,Ra4', 'Rxa4,Nxa4,a2', 'https://lichess.org/training/tz1gQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tz2sG', 'Rapid', 'toxicchess123456', 1953, 'Difio', 1925, 'e4,c5,Bc4,e6,c3,d5,exd5,exd5,Bb5+,Nc6,Bxc6+,bxc6,d3,Nf6,Nf3,Bd6,h3,O-O,O-O,h6,Be3,a5,Qd2,Kh7,c4,d4,Bf4,Qc7,Bxd6,Qxd6,Re1,Bf5,b3,a4,bxa4,Rxa4,Qc2,Raa8,Nbd2,g5,g4,Be6,a4,Qf4,a5,h5,gxh5,Bxh3,Nh2,Ng4,Ndf3,Rg8,Re4,Qf5,Nxg4,Bxg4,Nh2,Bxh5,Rae1,f6,Re7+,Rg7,Rxg7+,Kxg7,Re7+,Kg6,Qd2,g4,Kg2,Qg5,Qe2,g3', 'Qe4+,Qf5,Rg7+,Kxg7,Qxf5', 'https://lichess.org/training/tz2sG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TZ4ff', 'Blitz', 'Mikel-David', 1843, 'bazlextaz', 1854, 'd4,e5,dxe5,Bc5,e4,d6,exd6,Ne7,Bb5+,c6,Bd3,Bxd6,Nf3,Bg4,O-O,h5,h3,Nd7,hxg4,hxg4,Ng5,g3,fxg3,Bxg3,Re1,Qb6+,Be3,c5,Qf3,Bxe1,Qxf7+,Kd8,Ne6+,Kc8,Qxe7,Qa5,Nc3,c4,Rxe1,cxd3,cxd3,Qh5,Qb4,Qh2+,Kf1,b6,Qc4+,Kb7,Bf4,Qh1+,Ke2,Qxg2+,Kd1,Qf3+,Kc2,Rhc8,Qd5+,Ka6,b4,Rxc3+,Kxc3,Rc8+,Kd4', 'Qf2+,Re3,Qb2#', 'https://lichess.org/training/TZ4ff');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZ6Nl', 'Blitz', 'Stonelion', 1725, 'alokdk', 1710, 'e4,e5,f4,d6,fxe5,dxe5,Nf3,Nc6,Bb5,Bd7,O-O,Bd6,c3,Nf6,d4,Nxe4,dxe5,Nxe5,Bxd7+,Nxd7,Re1,f5,Bg5,Be7,Bxe7,Qxe7,Nbd2,O-O,Qc2,Ndf6,Rad1,Qc5+,Nd4,Qb6,Nc4,Qc5,Kh1,Qe7,Qb3,Qf7,Nxf5,Nf2+,Kg1,Nxd1,Rxd1,Ng4,Rf1,Kh8,h3,Nh6,Nfe3,Qe7,Nd5,Qd7,Rd1,c6,Ne5,Qf5,g4,Qf2+,Kh1,cxd5,Qxd5,Rae8,g5,Nf7,Ng4,Qe2,Rg1,Ne5,Nh6,Nf3', 'Qg8+,Rxg8,Nf7#', 'https://lichess.org/training/tZ6Nl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tz87r', 'Rapid', 'Ruslan_Gorenko', 2026, 'easymoney1', 2060, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,Bg7,h3,O-O,Bd3,Nc6,Be3,h6,O-O,e5,d5,Ne7,Ne2,Ne8,c4,f5,Rc1,f4,Bd2,Nf6,b4,g5,c5,Ng6,cxd6,cxd6,Kh2,Rf7,a4,Bf8,b5,g4,Nfg1,h5,a5,Nh4,g3,Nf3+,Nxf3,gxf3,Ng1,h4,Qxf3,hxg3+,fxg3,fxg3+,Qxg3+,Rg7,Qf2,Qe8,Qxf6,Qh5,Qxf8+,Kh7,Be2,Qh4,Rf7', 'Qg3+,Kh1,Qg2#', 'https://lichess.org/training/tz87r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tz903', 'Classical', 'Megajawn', 1841, 'Appec', 1783, 'd4,b5,Nc3,a6,Bf4,Bb7,e4,e6,Bd3,Nf6,a3,Be7,Nf3,Nh5,Be3,O-O,g4,Nf6,h3,d6,g5,Ne8,h4,g6,Qd2,Ng7,Nh2,e5,f4,exf4,Bxf4,Nc6,Be2,Bc8,Bg4,Rb8,O-O-O,b4,axb4,Nxb4,Bxc8,Qxc8,Rhg1,Rb7,Ng4,c5,Nf6+,Kh8,h5,c4,hxg6,fxg6,Rh1,Bxf6,Qh2,Nh5,gxf6,Rxf6,Bg5,Rf3,Qxd6,Qe8,Rxh5,gxh5,Bf6+,Rxf6,Qxf6+,Rg7,Rg1,Qf7,Qd8+,Rg8,Rxg8+,Qxg8,Qxg8+,Kxg8,Ne2,h4,Nf4,Kf7,c3', 'Nd3+,Nxd3,cxd3', 'https://lichess.org/training/Tz903');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tz9xm', 'Rapid', 'TUTUCIJU', 1670, 'Hmidan83', 1667, 'd4,d5,c4,dxc4,Nc3,f6,e4,e5,d5,Bb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/tz9xm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TzABK', 'Rapid', 'alanadayswork', 2041, 'Dtronn', 1836, 'e4,e6,e5,d5,exd6,Bxd6,Nc3,Nf6,d4,c6,Bg5,Nbd7,Qf3,Be7,Bd3,h6,Bh4,Qb6,O-O-O,Qxd4,Bg3,Qb6,Nge2,a5,Rhe1,Bb4,Bf4,a4,Be3,Qc7,Bd2,b5,Nd4,Bb7,Rxe6+,Kf8,Ree1,a3,b3,Qa5,Nf5,Bxc3,Nd6,Bxd2+,Rxd2,Rb8,Qe2,Qc3', 'Qe7+,Kg8,Qxf7#', 'https://lichess.org/training/TzABK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tzAHz', 'Blitz', 'WFM PershinaElena', 2144, 'Onowu', 2108, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,Nf6,g3,Be7,Bg2,O-O,O-O,Nbd7,h3,c6,Be3,Nb6,Ne2,h6,c3,Nbd5,Qc2,Nxe3,fxe3,Nd5,Qd3,Bg5,e4,Ne3,Rf2,Nxg2,Kxg2,f5,exf5,exf5,Ne5,f4,Nxf4,Bxf4,gxf4,Bf5,Qg3,c5,dxc5,Qd5+,Kh2,Qxc5,Rg1,Qe7,Ng6,Bxg6,Qxg6,Qf6,Qg2,Rf7,Qd5,Rf8,f5,Kh7,Rfg2,Qh4,Qe5,Rg8,Qd6,Qf6,Qd3,Qxf5,Rxg7+', 'Rgxg7,Qxf5+,Rxf5', 'https://lichess.org/training/tzAHz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TZAKl', 'Rapid', 'kotopes155', 1706, 'obirab', 1721, 'e4,c5,Nf3,Nc6,Bc4,e6,h3,d6,a3,a6,Nc3,b5,Ba2,Nf6,d3,Be7,Bd2,O-O,g4,h6,Bxh6,gxh6,g5,hxg5,Nxg5,Ne5,Qe2,b4,Nd1,Qa5,axb4,Qxb4+,c3,Qb5,Rg1,Ng6,h4,Nh7,Nxh7,Kxh7,h5,Nf4,Qf3,Nxd3+,Kd2,Ne5,Qe3,Nc4+,Bxc4,Qxc4,h6,e5,Rg7+,Kh8,Qg3,Qxe4,Ne3,Qf4', 'Rh7+,Kxh7,Qg7#', 'https://lichess.org/training/TZAKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tzawq', 'Classical', 'N913', 1719, 'Suegro', 1819, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,e4,d6,Be2,Nc6,O-O,e5,d5,Ne7,Ne1,c5,f3,Qa5,Nd3,Nd7,Be3,f5,a3,Qc7,Rc1,Nb6,Nb5,Qd8,Ne1,Bd7,b4,Bxb5,bxc5,Bxc4,Bxc4,Nxc4,Rxc4,Rc8,c6,bxc6,dxc6,Rxc6', 'Rxc6,Nxc6,Qd5+,Kh8,Qxc6', 'https://lichess.org/training/Tzawq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tzB5B', 'Rapid', 'kingindianll', 2092, 'Volkanov_Sergey', 2098, 'c4,e5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nf3,Nge7,O-O,O-O,Rb1,d5,cxd5,Nxd5,d3,Nce7,Bg5,c6,Qd2,Qc7,Rbc1,Nxc3,bxc3,Be6,a4,Rfd8,Qe3,Nf5,Qd2,f6,Be3,Nxe3,Qxe3,h5,h4,Kh7,Rb1,b6,Qc1,Rac8,Qc2,c5,Nd2,c4,dxc4,Bxc4,Bf3,f5,Rfe1,e4,Bg2,Bf7,Nf1,Qxc3,Qxc3,Rxc3,Red1,Rxd1,Rxd1,Bc4,Rd2,Ra3,Ne3,Rxa4,Bf1,b5,Rd7,a5,Rc7,Rb4,Kg2,a4,Ra7,Kh6,Ra6,Bd4', 'Nxf5+,Kh7,Nxd4', 'https://lichess.org/training/tzB5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tzbkT', 'Rapid', 'CeperaKupoB', 1833, 'dark_harbinger', 1814, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Nc3,Ne7,Na4,Nd7,Bd2,b6,O-O-O,c5,dxc5,bxc5,b3,Nxe5,Qb5+,N5c6,Nxc5,Qb6,Qxb6,axb6,Na4,Nc8,Nf3,b5,Nc3,Ba3+,Kb1,Nd6,Bf4,O-O,Bxd6,Bxd6,Nxb5,Bf4,Nfd4,Nb4,a4,Rfc8,c3,Na6,Ka2,Be5,Rhf1,Bf6,f4,Nc5,Rf3,Ne4,Rff1,Nxc3+,Nxc3,Rxc3,Rf3', 'Bxd4,Rxc3,Bxc3', 'https://lichess.org/training/tzbkT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZbzO', 'Rapid', 'INGVARRR', 1866, 'scrat69', 2187, 'f4,d5,d4,g6,Be3,Bg7,Nf3,Nf6,Nbd2,O-O,g3,b6,c3,Nbd7,Bg2,Bb7,Qc2,Ng4,Bg1,c5,h3,Ngf6,g4,Ne4,f5,Rc8,Qb1,e5,Nxe4,dxe4,Ng5,cxd4,Nxh7,Kxh7,fxg6+,fxg6,h4,Rf4,h5,g5,Bf3,Kh6,Bh2,exf3', 'Qg6#', 'https://lichess.org/training/tZbzO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZc1O', 'Rapid', 'Leedr', 1658, 'ELBASSERATEF', 1651, 'c4,Nf6,Nc3,e6,Nf3,g6,d4,d6,Bg5,Bg7,e3,h6,Bh4,O-O,Bd3,b6,O-O,Bb7,Qc2,Qd7,h3,Bxf3,gxf3,e5,Rfe1,Qxh3,Bg3,Nh5,Ne2,Nc6,Be4,Nxd4,exd4,Rae8,d5,f5,Bd3,e4,Nf4,Nxf4,Bxf4,exd3,Qxd3,g5,Bh2,g4,Rxe8,gxf3,Rxf8+,Bxf8,Qf1,Qg4+,Kh1,Bg7,Rb1,Qd4,b3,Qd2,Qg1,Kh7,Re1,Bf6,Re8,Bg5,Rf8,f4,Rf7+,Kg6,Rxc7,Kf5,Rc6,Qxa2,Rxd6,Qxb3,Rc6,a5,d6,a4,d7,a3,Bxf4,a2,Bxg5,Qb1,d8=Q,Qxg1+,Kxg1,a1=Q+,Kh2,Qe5+,Kh3,hxg5,Rxb6', 'g4+,Kh4,Qh2#', 'https://lichess.org/training/tZc1O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZeEA', 'Blitz', 'SRI4791', 1677, 'gb778', 1616, 'd4,d5,Nc3,Bf5,Bf4,e6,e3,Nc6,Nb5,Bd6,Nxd6+,cxd6,f3,Nb4,Bd3,Bxd3,cxd3,Rc8,Ne2,Nc2+,Kf2,Nxa1,Qxa1,Qh4+,Bg3,Qe7,a4,Nf6,b4,Nh5,a5,Nxg3,hxg3,O-O,Rh3,Qf6,Qh1,Qg6,Nf4,Qf5,g4,Qf6,Rxh7,g6,e4,dxe4,dxe4,Qxd4+,Kg3,Qe5,g5,f5,gxf6,Rxf6', 'Rh8+,Kf7,Qh7#', 'https://lichess.org/training/tZeEA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TzfDl', 'Rapid', 'Kcjones19', 1645, 'Akeryu', 1654, 'd4,e6,c4,d5,e3,Nf6,a3,b6,Nf3,Bd6,Be2,Nc6,cxd5,exd5,O-O,O-O,Re1,Bg4,Qc2,Bh5,Qxc6,Bg6,Nbd2,Ne4,Qxd5', 'Bxh2+,Nxh2,Qxd5', 'https://lichess.org/training/TzfDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZgmi', 'Rapid', 'lakshyakadiyan', 1805, 'BlackSilas', 1729, 'd4,Nf6,c4,e6,Nc3,Bb4,Bf4,Ne4,Qd3,d5,e3,Nc6,f3,Nxc3,bxc3,Bd6,cxd5,exd5,Bxd6,Qxd6,Be2,O-O,e4,dxe4,fxe4,Bd7,Nf3,Rae8,O-O,Qe7,e5,f6,Qc4+,Kh8,Rae1,fxe5,Bd3,Bg4,Nxe5,Rxf1+,Bxf1,Nxe5,Rxe5,Qf8,Qxc7,Rxe5,Qxe5,Qc8,c4,h6,h3,Bf5,g4,Bh7,c5,Bg8,a3,Qc6,Bd3,Qf3,Qe4,Qg3+,Kf1,Qxh3+,Ke2,Qh2+,Ke3,Qg3+,Kd2,Qc7,g5,Qh2+,Kc3,hxg5,Qxb7,g4,c6,Bd5,Qc8+,Bg8,c7,g3,Qb8,g2,c8=Q,Qxb8', 'Qh3+,Bh7,Qxh7#', 'https://lichess.org/training/tZgmi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TzGn7', 'Blitz', 'l3onardo', 2202, 'FM AdrianWinterTandT', 2246, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nd4,Nxd4,Bxd4,c3,Bb6,d4,c6,Ba4,d6,d5,Bd7,dxc6,Bxc6,Bb3,Nf6,Bg5,Bxe4,Re1,Bc6,Nd2,O-O,Nc4,Bc7,Ne3,h6,Bh4,g5,Bg3,d5,Nf5,Kh7,Bxe5,Bxe5,Rxe5,Ne4,Bxd5,Bxd5,Rxd5,Qf6,Qd3,Rae8,Re1,Nc5,Qb1,Rxe1+,Qxe1,b6,b4,Ne6,Qe4,Kg8,c4,Nf4,Re5,Rd8,Ne7+,Kf8,Nd5,Nxd5,cxd5,Rd6,h3,Kg7,Kh2,Qxf2,Rf5,Qb2,Qe7,Rf6,Rxf6,Qxf6,d6,Qf4+,Kg1,Qd4+,Kh1,Qxb4', 'Qe5+,Kg6,d7,Qb1+,Kh2', 'https://lichess.org/training/TzGn7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TZhzB', 'Rapid', 'CantusEx', 2121, 'queenmaya1', 2012, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,cxd4,Nxd4,Bc5,Be3,Qb6,Na4,Qa5+,c3,Bxd4,Bxd4,Nc6,b4,Qd8,a3,Nxd4,cxd4,O-O,Bd3,f5,exf6,Qxf6,g3,Kh8,Be2,Qf5,O-O,Nf6,Bd3,Ne4,Nc5,b6,Nxe4,dxe4,Bc2,Bb7,Qe2,Qd5,Qe3,Rad8,Rad1,Rd7,Rfe1,Qa2,Re2,Qc4,Bxe4,Bxe4,Qxe4,Re8,Qd3,Qd5,Re5,Qd6,Kf2,Red8,Ke3,g6,Qc4,Re8,d5,Rde7,Qd4,exd5,Qxd5', 'Rxe5+,fxe5,Rxe5+,Qxe5+,Qxe5+', 'https://lichess.org/training/TZhzB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TZINW', 'Rapid', 'Ricar123', 1756, 'HagenHenke80', 1918, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,dxc4,e4,c5,d5,exd5,exd5,a6,Bg5,b5,Ne4,Qxd5', 'Nxf6+,gxf6,Qxd5', 'https://lichess.org/training/TZINW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tziPy', 'Classical', 'TheRatRiverTrapper', 2021, 'alexandr111d', 1918, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nd5,Nxe4,Bd3,Nc5,O-O,Be7,Re1,Ne6,Bd2,O-O,c3,Bg5,Nxg5,Nxg5,h4,Ne6,Qh5,g6,Qh6,f5,h5,Qh4,hxg6,Qxh6,Bxh6,hxg6,Bxf8,Kxf8,g3,Ne7,Nxe7,Kxe7,cxd4,Kf7,Bc4,Kf6,Rad1,d6,d5,Ng5,Re8,b6,Ba6,Bb7,Rxa8,Bxa8,Rd3,Ne4,Bc4,a5,Kh2,Nxf2,Rc3,c6,dxc6,Bxc6,Bb3,Ng4+,Kg1,Ne5,Kf2,g5,Bc2,b5,a3,g4,b4,a4,Bb1,d5,Ke3,Ke6,Kd4,Kd6,Bxf5,Nf3+,Kd3,d4,Rc5,Ne5+,Kxd4,Nc4,Bxg4,Nxa3,Rh5,Nc4,Rh6+,Kc7,Kc5,Ne5,Be2,a3,Rh7+', 'Nd7+,Kd4,a2', 'https://lichess.org/training/tziPy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tzkiz', 'Classical', 'doubleaa_13', 1695, 'T-Rell8500', 1735, 'e4,e5,Nf3,Bc5,Nxe5,Qe7,d4,Bb6,Nc3,Ba5,Bd2,d6,Nf3,Bxc3,Bxc3,Qxe4+,Be2,Nf6,O-O,O-O,Bd3,Qe7,Re1,Qd8,h3,Nc6,b4,a6,a4,b6,b5,axb5,axb5,Na5,Qd2,Bb7,Be2,c6,bxc6,Bxc6,d5,Bxd5', 'Bxf6,Qxf6,Qxd5', 'https://lichess.org/training/Tzkiz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tzM0m', 'Classical', 'Ukraina84', 1743, 'mbcx9', 1754, 'e4,e5,Nf3,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,d4,e4,Ng1,Nc6,Be3,Be6,c4,Qa5+,Bd2,Nb4', 'a3,Nd3+,Bxd3', 'https://lichess.org/training/tzM0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TZPfm', 'Classical', 'AbdulKhaliq', 1978, 'songkia', 1920, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be2,Nf6,O-O,e5,Nb3,Be6,Bg5,Be7,Bxf6,Bxf6,Nd5,Bxd5,Qxd5,O-O,Rad1,Be7,Bc4,Qc7,Kh1', 'Nb4,Qd2,Qxc4', 'https://lichess.org/training/TZPfm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZpPl', 'Classical', 'hudaibilgici', 1640, 'mars2020', 1609, 'e4,e5,Qh5,Nc6,Nf3,d6,Bc4,g6,Qg5,Be7,Qg3,Nd4,Nxd4,exd4,Qf3,Nf6,d3,Bg4,Qg3,Qd7,h3,Be6,Bxe6,Qxe6,Bh6,O-O-O,Bg7', 'Nh5,Qf3,Nxg7', 'https://lichess.org/training/tZpPl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZQRi', 'Rapid', 'hazar51', 1757, 'mikitazabroha', 1756, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,Bxf7+,Kxf7,Ne5+,Ke8,Nxg4,d6,O-O,Qg5,Nf2,Nf6,d4,Rg8,Qf3,Nc6,Bxf4,Nxd4,Bxg5,Nxf3+,gxf3,Rxg5+,Kh1,Bh6,Nc3,Kf7,f4,Rh5,e5,Bxf4,exf6,Rxh2+,Kg1,Bh3,Nxh3', 'Rg8+,Ng5+,Rxg5#', 'https://lichess.org/training/tZQRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tzr0Q', 'Rapid', 'MiruHotus', 1626, 'AmnesiacHS', 1565, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be2,O-O,O-O,Nbd7,Be3,c5,d5,Qb6,b3,Re8,Rb1,Qd8,b4,b6,bxc5,Nxc5,Bb5,Bd7,Bxd7,Qxd7,h3,Nfxe4,Nxe4,Nxe4,Qd3,Qa4,Rfe1,Nc3,Rb3,Nxa2', 'Ra3,Nb4,Rxa4,Nxd3,cxd3', 'https://lichess.org/training/tzr0Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TzrMK', 'Blitz', 'Simen_S', 1786, 'Adik2', 1785, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,d6,O-O,Nf6,d3,O-O,Bg5,h6,Bh4,Na5,Bb3,Nxb3,axb3,c6,Na4,Bb4,c3,Ba5,b4,Bc7,c4,g5,Bg3,Bg4,c5,d5,Qe1,Bxf3,gxf3,d4,b3,Qd7,Nb2,Nh5,Nc4,Qe6,Kh1,b5,cxb6,axb6,Qe2,b5,Nd2,f5,exf5,Qxf5,Qe4,Qxe4,fxe4,Nxg3+,fxg3,Bd6,Rxf8+,Rxf8,Kg2,Bxb4,Nf3,Bd6,Ra6,Rc8,h4,g4,Nh2,h5,Ra7,Bc7,Nf1,Kf8,Nd2,Ke8,b4,Kd7,Nb3,Kd6,Nc5,Bb6,Rh7,Bxc5,bxc5+,Kxc5,Rxh5,b4,Rxe5+,Kb6,Rf5,b3,Rf1,Kb5,Rb1,Kb4,Kf2,Kc3,Ke2,Ra8,Rc1+,Kb2,Rxc6,Ka1,Kd1,b2,Rb6,Ra3,Kc2,Rc3+,Kd1,Rxd3+,Kc2,Rxg3', 'Ra6+,Ra3,Rxa3#', 'https://lichess.org/training/TzrMK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZrwc', 'Rapid', 'natik1069', 1795, 'heshamelsafty1', 1670, 'd4,e5,dxe5,Bc5,Nf3,d5,exd6,cxd6,Bf4,Qb6,e3,Qxb2,Nbd2,Bb4,Bb5+,Nc6,O-O,Bxd2,Qxd2,Qxb5,Qxd6,Nf6,Rab1,Qd5,Qc7,O-O,Rfd1,Qc5,Rd2,Nd5,Qd6,Qxd6,Bxd6,Nce7,e4,Rd8,Bxe7,Rd7,Ba3,Nb6,Rxd7,Nxd7,Rd1,f6,h4,Kf7,Nd4,Ne5,Nb5,a6,Nc7,Rb8,Rd8,Nc6,Rf8+,Kg6,f3,h5,Nd5,b5,Nf4+,Kh7,Nxh5,b4,Bc1,Nd4,Nf4,g5,hxg5,fxg5,Nd5,Ne2+,Kf2,Nxc1,Rf7+,Kg6,Rf6+,Kg7,e5,Nxa2,Rc6,Bb7,Rc7+,Kg6', 'Ne7+,Kf7,Nc6+', 'https://lichess.org/training/tZrwc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZSsD', 'Classical', 'Sulfur7345', 1873, 'Brainless_Player', 1914, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,c5,Be3,Nc6,Be2,cxd4,Bxd4,Nxd4,Qxd4,Bc5,Qg4,O-O,O-O,a6,Na4,Ba7,c4,dxc4,Rfd1,b5,Nc3,Qb6,Qg3,Bb8,Ne4,f6,Qh3,Nxe5,Nxe5,Bxe5,Rab1,Bb7,Nd6,Rad8', 'Qxe6+,Kh8,Nf7+', 'https://lichess.org/training/tZSsD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TZTjN', 'Rapid', 'thweenth', 1845, 'borrom', 1932, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,h3,Nxe4,Nxe4,d5,Bb3,dxe4,Ne5,e6,c3,Bxe5,dxe5,Qxd1+,Bxd1,Nc6,Bc2,Nxe5,Bxe4,c6,O-O,Rd8,Be3,Nc4,Bc1,f5,Bc2,Kf7,b3,Nb6,Bg5,Re8,Rad1,e5,Rd2,Be6,Rfd1,Nd5,f4,exf4,c4,Ne3,Rc1,Nxc2,Rcxc2,Rad8,Bxf4,Kf6,h4,Rd7,Re2,Red8,Bg5+,Kf7,Bxd8,Rxd8,g3,Rd3,Kh2,h6,Rc1,g5,hxg5,hxg5,Rce1,Bd7,Kg2,Kf6,Rh1,Kg6,Rhe1,Kf6,Rh1,Kg6,Rh8,c5,Rb8,Rd4,Kh2,Bc6,Re6+,Kh5,Kh3,g4+,Kh2,Rd2+,Kg1,Rg2+,Kf1,Rxg3,Rxc6,bxc6,Rc8,f4,Rxc6,f3,Rxc5+,Kh4,Rc8,Rg2,c5,Rxa2,c6,Kg3,Ke1,Ra1+,Kd2,f2,Rf8,Ra2+,Kc3,Kg2', 'c7,f1=Q,Rxf1', 'https://lichess.org/training/TZTjN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Tztos', 'Rapid', 'NoLogicOne', 1994, 'Tulindoy25', 2011, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,c4,c6,Nc3,Bd6,Bg5,O-O,cxd5,cxd5,Bxf6,Qxf6,Nxd5,Qe6+,Ne3,Bb4+,Nd2,Rd8,a3,Ba5,b4,Bb6,Bc4,Qg6,Nb3,Nc6,d5,Bxe3,dxc6,Rxd1+,Rxd1,Bxf2+,Kxf2,Qf6+,Ke1,bxc6,Rf1,Qe5+,Kd2,Qb2+,Kd3,Be6,Rd2,Bxc4+,Kxc4,Qxa3', 'Ra1,Qxa1,Nxa1', 'https://lichess.org/training/Tztos');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TzULj', 'Classical', 'paranoidtimes', 1661, 'SALE0706', 1739, 'e4,d5,e5,Bf5,d4,c5,Bb5+,Nc6,Nf3,c4,c3,Qd7,b3,Bd3,e6,Qxe6+,Ne5,f6,Qg4,Bf5,Qe2,fxe5,Bxc6+,bxc6,bxc4,exd4,Qxe6,Bxe6,Bf4,dxc4,cxd4,Bd5,O-O,Nf6,Nc3,Rb8,Bxb8,Kd7,Bxa7,e6,a4,Bb4,Nxd5,exd5,Rfb1,Bc3,Rb7+,Ke6,Rab1,Nd7,f3,Ra8,g4', 'Rxa7,Rxa7,Bxd4+,Kf1,Bxa7', 'https://lichess.org/training/TzULj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TZulr', 'Blitz', 'Orcat', 1864, 'Perihanna', 1821, 'd4,c5,d5,Nf6,c4,e6,Nc3,a6,e4,exd5,cxd5,Bd6,a4,O-O,Bd3,Re8,Nf3,Qb6,O-O,c4,Bc2,a5,Re1,Ng4,Nd4,Bxh2+,Kf1,Qg6,e5,Qh5,f4,Bxf4,Bxf4', 'Qh1+,Ke2,Qxg2#', 'https://lichess.org/training/TZulr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TZVb9', 'Rapid', 'CessNyb', 2019, 'syrok1', 1927, 'd4,d5,Nf3,g6,e3,Bg7,Bd3,b6,O-O,Bb7,b3,Nd7,Bb2,e6,Ne5,Nxe5,dxe5,Ne7,Nd2,O-O,f4,c5,g4,f6,exf6,Bxf6,Bxf6,Rxf6,g5,Rf7,Qg4,Nf5,Rf3,Qd6,h4,d4,e4,Ne3,Qg3,Raf8,e5,Qc7,Rf2,Nf5,Qg4,Ne3,Qxe6,Kg7,h5,Rxf4', 'h6+,Kh8,Rxf4', 'https://lichess.org/training/TZVb9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZvjq', 'Classical', 'OatofthisSwirled', 1652, 'cassista9', 1802, 'e4,c5,Nf3,Nc6,Bb5,e5,O-O,d6,c3,Bg4,h3,Bh5,d3,Be7,Nbd2,a6,Bxc6+,bxc6,Qa4,Qc7,d4,cxd4,cxd4,Bf6,b3,Bxf3,Nxf3,Ne7,Ba3,O-O,Rac1,exd4,Nxd4,c5,Nf3,Ng6,Rfe1,Ne5,Nxe5,Bxe5,g3,a5,f4,Bd4+,Kg2,Rfe8,Rcd1,Qb7,Kf3,f5,Rxd4,cxd4,Qxd4,fxe4+,Rxe4,Re6,Bxd6,Rae8,Be5,g5,Kg4,Qc8,f5,Rd8,Qa7,Rd7,Qxa5,Ra6,Qb5,h5+,Kxh5,Qe8+,Kxg5', 'Rg7+,Bxg7,Qxb5', 'https://lichess.org/training/tZvjq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TzVYt', 'Rapid', 'Nole13', 1681, 'earlme', 1810, 'd4,d5,Nc3,Bf5,Nf3,e6,Nh4,Qxh4,g3,Qd8,Bg2,Nf6,Bg5,c6,O-O,h6,Bh4,g5,g4,Bxg4,Bg3,Bd6,Bxd6,Qxd6,f3,Bf5,e4,dxe4,fxe4,Nxe4,Nxe4,Bxe4,Bxe4,f5,Qf3,fxe4', 'Qf7+,Kd8,Qf6+,Kc7,Qxh8', 'https://lichess.org/training/TzVYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZVZT', 'Classical', 'Rbagol14', 1937, 'Marrok1993', 1930, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Bc4,Nf6,Nc3,O-O,Qd2,Nxd4,Bxd4,Nxe4,Nxe4,d5,Bxg7,Kxg7,Bxd5,Bf5,Ng3,Bxc2,Qxc2,Qxd5,O-O,Rad8,Rfd1,Qa5,Rxd8,Rxd8,Rd1,Rxd1+,Qxd1,Qxa2,Qd4+,f6,h3,a5,Ne4,b5,Qd7', 'Qb1+,Kh2,Qxe4', 'https://lichess.org/training/tZVZT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZW61', 'Blitz', 'vestigeprestige', 1579, 'Jh0nny', 1831, 'd4,d5,Nf3,Nf6,Bf4,Bg4,Nbd2,e6,e3,c5,c4,Nc6,a3,dxc4,Bxc4,cxd4,e4,e5,Bg5,h6,Bh4,Bd6,Qa4,O-O,h3,Bh5,g4,Bg6,g5,Nxe4,gxh6,gxh6,Bxd8,Raxd8,Nxe4,Bxe4,Rg1+,Kh7,Nd2,Bg6,O-O-O,Rc8,Nf3,a6,Nh4,Be4,Bd3,Nb4+,Kb1,Nxd3,Qd7,Nxf2+,Ka2,Bd5+,Ka1,Nxd1,Nf5,Rg8,Qxd6,Rxg1', 'Qxh6+,Kg8,Ne7#', 'https://lichess.org/training/tZW61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tZwVq', 'Rapid', 'kasparagio', 1754, 'BulanLukas', 1633, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,O-O,Bc5,c3,dxc3,Nxc3,d6,Bf4,Nge7,e5,dxe5,Qxd8+,Nxd8,Bxe5,O-O,Ne4,Ne6', 'Bxe6,Bxe6,Nxc5', 'https://lichess.org/training/tZwVq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TzylU', 'Blitz', 'serious_guy', 2343, 'abel250', 2452, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,h3,h5,d3,Qf6,Nbd2,Ne7,Re1,Ng6,d4,Nf4,dxe5,Qg6,Nh4,Bxd1,Nxg6,Nxg6,Rxd1,O-O-O,e6,fxe6,Re1,Ne5,Nb3,Nc4,Bg5,Re8,Rab1,e5,Red1,Be7,Bxe7,Rxe7,Nd2,Nd6,f3,h4,Nf1,Kd7,Ne3,Ke6,c3,a5,Rd2,Ra8,Rbd1,Ra6,Kf2,Rb6,Rc2,a4,c4,Ra6,c5,Nb5,Nf5,Rf7,Rd8,g6,Re8+,Kf6,Nh6,Nd4,Rd2,Re7,Ng4+,Kf7,Rxe7+,Kxe7,Nxe5,Ne6,Nxg6+,Kf6,Nxh4,Nxc5,Ke3,Rb6,f4,Rb4,e5+,Ke6,Kf3,Nd7,g4,b5,Ng6,Kf7,Rxd7+,Kxg6,Rxc7,Rxb2,Rxc6+,Kf7,Rb6,b4,f5,b3,axb3', 'Rxb3+,Rxb3,axb3,Ke4,b2', 'https://lichess.org/training/TzylU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('tzZCP', 'Rapid', 'Mene1959', 1842, 'muhammedsaahin', 1705, 'e4,e5,Nf3,Nc6,Bb5,Bc5,a3,d6,Nc3,Bd7,h3,Nf6,d3,h6,O-O,a6,Ba4,b5,Bb3,Na5,Ba2,O-O,Bd2,Qe7,Nd5,Nxd5,Bxd5,Bc6,Bxa5,Bxd5,exd5,Bd4,c3,Bc5,Bb4,Bb6,d4,a5,dxe5,axb4,exd6,Qxd6,axb4,Rxa1,Qxa1,Re8,Qd1,Rd8,Re1,Qxd5,Qxd5,Rxd5,Re5,Rd1+,Kh2,Rb1,Rxb5,Rxb2,Rf5,Rb3,Ne5,f6,Nd7,Ba7,Rf3,Rb2,Kg3,Rd2,Nc5,c6,Ne4,Bb8+,Kg4,Rd1,Nc5,Rg1,g3,Rf1,Kf5,Be5,Nd7,Bd6,Nc5,Rc1,Ne4,Be5,Rd3,Kf7,f4', 'g6+,Kg4,f5+,Kf3,fxe4+', 'https://lichess.org/training/tzZCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('TZzEL', 'Blitz', 'bang_keong', 1886, 'radjagoeks', 2170, 'e4,d5,exd5,Qxd5,d4,Nf6,c3,c6,Nf3,Bf5,Bg5,Nbd7,Bxf6,Nxf6,Nbd2,e6,Bc4,Qd8,O-O,Be7,Re1,O-O,Qe2,Re8,h3,h6,a4,Qc7,Nh4,Bh7,Ndf3,Rad8,Ne5,Nd5,Qg4,Nf6,Qe2,a6,Nhf3,c5,Rac1,Nd5,Nxf7,Kxf7,Qxe6+,Kf8,Bxd5,Bf6,Qg4,Rxd5', 'Rxe8+,Kxe8,Qe6+,Kf8,Qxd5', 'https://lichess.org/training/TZzEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u00oU', 'Rapid', 'CuteTeenyCold', 1655, 'CBalzereit', 1671, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,a6,Nf3,h6,a4,Nc6,Bc4,e6,O-O,Nge7,b3,Ng6,Be3,Be7,b4,Nxb4,Rb1,Nc6', 'Bb6,Qxb6,Rxb6', 'https://lichess.org/training/u00oU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u01Ik', 'Rapid', 'ToniV', 1732, 'Eryximaque', 1626, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,a6,Bc4,Bg4,d5,Nd4,Be2,Nf6,Nxd4,Bxe2,Nxe2,Nxe4,f3,Nc5,Nbc3,Be7,b4,Nd7,Ne4,O-O,Qd3,f5,N4g3,Bh4,O-O,f4,Nf5,Qg5,Kh1,Rxf5,g3,fxg3,Bxg5,g2+,Kxg2,Rxg5+,Kh3,Rh5,f4,Bf6+,Kg2,Rf8,h3,e4,Qxe4,Bxa1,Rxa1,Nf6,Qe6+,Kh8,Qe7,Re8,Qf7,Rxe2+,Kf3,Re8,Rg1,Rxh3+,Kf2,Ne4+,Kg2,Rg3+,Kf1', 'Nd2+,Kf2,Rf3+,Kg2,Re2+,Kh1,Rh3#', 'https://lichess.org/training/u01Ik');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u09al', 'Rapid', 'whitetigerchess', 1995, 'vbatman2004', 2354, 'e3,Nf6,d4,g6,c4,Bg7,Nc3,O-O,Bd3,d6,Nge2,Nbd7,O-O,b6,Ng3,Bb7,f3,e5,d5,a5,e4,c6,a3,cxd5,Nxd5,Nxd5,cxd5,Nc5,Be3,Nxd3,Qxd3,Ba6,Qb3,Bxf1,Rxf1,Rb8,Ne2,Bf6,Nc3,Qd7,Nb5,Rfc8,Rc1,Rxc1+,Bxc1,Bd8,Be3,Rc8,h3,f5,Nc3,fxe4,fxe4,Qc7,Na4,Qc2,Qb5,Qxe4', 'Qe8+,Kg7,Qd7+', 'https://lichess.org/training/u09al');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U0bJN', 'Rapid', 'carter0000000', 1957, 'flyilya', 1852, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Nh4,e6,Nxg6,hxg6,Be3,Bd6,Ne4,Bc7,h3,Ngf6,Bg5,Ba5+,c3,Qc7,Bd3,Nxe4,Bxe4,Rh5,Qd2,Ne5,O-O-O,Nc4,Qf4,Qb6,b4,Bxb4,cxb4,Qxb4,Rd3,Qb2+,Kd1,Qa1+,Ke2,Qxa2+,Kf1,Qb1+,Qc1,Qxc1+,Bxc1,O-O-O,g4,Ra5,Kg2,Nd6,Bf3,Ra1,Be3,Rxh1,Kxh1,Nb5,Kg2,Nxd4', 'Rxd4,Rxd4,Bxd4', 'https://lichess.org/training/U0bJN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u0CvV', 'Rapid', '2700172', 1846, 'Soupe_Salade', 1881, 'e4,c5,Bc4,e6,Nc3,Nc6,a3,Nf6,Ba2,d5,exd5,exd5,h3,Be7,d3,O-O,Nf3,Bf5,Bf4,a6,O-O,Qd7,Bg5,d4,Bxf6,Bxf6,Nd5,Bd8,Qd2,Be6,Nf4,Bxa2,Rxa2,Bc7,Nh5,Bd8,Raa1,Ne7,Rae1,Ng6,Re4,Bc7,Rfe1,Qd6,Ng3,Qf6,Nh5,Qd6,Qg5,h6,Qf5,Qb6,b3,Qa5,b4,cxb4,Qxa5,Bxa5,Rxd4,bxa3,Ra1,Bc3,Rxa3,Bxd4,Nxd4,Rfd8,c3,Ne5,Rb3,b5,Nf4,g5,Nh5,Nxd3,Nc6,Rd6,Ne7+,Kf8,Nf5,Re6,f3,Re1+,Kh2,Rc1,Nxh6,Nc5,Ra3,Na4,Nf6,Kg7,Nhg4,Rxc3,Ra2,b4,Rxa4,b3,Ne4,Rc2,Ne3,Re2,Nf5+,Kg6,Ne7+,Kg7,Nf5+,Kf8,Nd4,Ra2,Rb4,a5,Rxb3,a4,Rb4,a3,Rb1,Rb2,Ra1,a2,Nc3,Ra3,Nde2,Ke7,Nc1', 'Rxc3,Rxa2,Rxa2', 'https://lichess.org/training/u0CvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U0ELu', 'Rapid', 'remez', 1720, 'ELKAPITAN', 1704, 'd4,Nf6,Nf3,d5,Bf4,e6,e3,Be7,a3,O-O,c4,c6,Nc3,Nh5,Be5,Nd7,Be2,Nxe5,Nxe5,Nf6,O-O,Bd6,b4,a6,c5,Bxe5,dxe5,Nd7,f4,b6,cxb6,Nxb6,Bd3,a5,Qb3,axb4,Qxb4,Ba6,Bxa6,Rxa6,a4,Nc4,Rf3,Qc7,e4,Rb8,Nb5,Rxb5,axb5,Rxa1+,Kf2,Qb6+,Kg3,cxb5,Qe7,g6,Qe8+,Kg7,f5,Nxe5,f6+,Kh6,Qf8+,Kh5,Qg7,h6,Kf4,Nxf3', 'g4+,Kh4,Qxh6#', 'https://lichess.org/training/U0ELu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u0ex2', 'Rapid', 'Manab64', 2052, 'Archi291266', 2040, 'c4,c6,Nf3,d5,e3,Bg4,Be2,e6,O-O,Nf6,b3,Be7,Bb2,O-O,d3,a6,Nbd2,b6,Rc1,b5,h3,Bxf3,Bxf3,Nbd7,e4,Nc5,Qe2,dxe4,dxe4,Nd3,Rb1,Nxb2,Rxb2,Qd4,Nb1,Rfd8,Rd2,Qb6,e5,Nd7,Rfd1,Qc7,Re1,Nc5,Rxd8+,Rxd8,cxb5,cxb5,Rc1,Qb6,Qe3,h6,b4,Bg5', 'Qxc5,Qxc5,Rxc5', 'https://lichess.org/training/u0ex2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U0HcM', 'Rapid', 'Leoniz7', 1899, 'chessous', 1939, 'd4,d5,e3,Nf6,c4,c6,Nc3,Bf5,Bd3,Bg4,Nf3,e6,a3,Bd6,h3,Bf5,Bxf5,exf5,O-O,Ne4,cxd5,Nxc3,bxc3,cxd5,Qc2,Qf6,c4,dxc4,Qxc4,O-O,Bb2,Nc6,Qb3,Na5,Qb5,b6,d5,Qe7,Qd3,Qd7,Qd4,f6,Qd3,Rfe8,Rfe1,a6,Rac1,b5,Bc3,Nc4,Nh4,f4,e4,Rec8,Qf3,Nxa3,Nf5,Nc4,Nxd6,Qxd6,Qg4,b4,Bd4,b3,Rb1,Rcb8,Rec1,Qb4,Bxf6,Qf8,Rxc4,Qxf6,Rc7,b2,d6,Rd8,Rxb2', 'Qxb2,Qe6+,Kh8', 'https://lichess.org/training/U0HcM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u0hwE', 'Rapid', 'Adamyr88', 1612, 'GillesD', 1658, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d3,Nf6,Nf3,a6,Be2,e6,O-O,Be7,Ne4,Nxe4,dxe4,Qxd1,Rxd1,O-O,Bg5,Bxg5,Nxg5,b5,Bd3,Bb7,e5,g6,Re1,c5,c4,Nc6,cxb5,axb5,Bxb5,Nb4,Re2,Rxa2,Rxa2,Nxa2,h3,Rd8,b3,Nb4,Bc4,Rd4,Re3,Nc6,Nf3,Rd1+,Kh2,Ne7,Ng5,Nf5,Rd3,Rxd3,Bxd3,Bd5,Bc4,h6,Bxd5,exd5,Nf3,Nd4,Nd2,Kf8,f4,Ke7,Kg3,Ke6,Kf2,Kf5,g3,h5,Ke3,Nc2+,Kf3,Nb4,Ke3,d4+,Kf3,Ke6,Ne4,Kd5,Nd2,Nc2,Ne4', 'Ne1+,Ke2,Kxe4', 'https://lichess.org/training/u0hwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U0jJ9', 'Blitz', 'zPedr0y', 1784, 'cdthoma', 1858, 'e4,e5,Nf3,d6,Bc4,Nf6,O-O,Be7,d4,exd4,Nxd4,O-O,Bd3,c5,Ne2,Nc6,Nd2,Be6,b3,a6,a3,b5,Ng3,Nd4,Bb2,Rc8,Nf3,Bg4,Be2,Nxe2+,Qxe2,c4,Rad1,Qb6,h3,Bxf3,Qxf3,Rfe8,Nf5,Bf8,Bxf6,gxf6,bxc4,Rxc4,Rxd6,Bxd6', 'Qg4+,Kf8,Qg7#', 'https://lichess.org/training/U0jJ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u0k2y', 'Blitz', 'MowafyPH', 1764, 'DrzolkaR', 1749, 'd4,c6,c4,d6,Nc3,Nf6,Nf3,g6,Bg5,Bg7,Qd2,Bg4,Bh6,Bxh6,Qxh6,Nbd7,h3,Bxf3,exf3,Qa5,Qc1,e5,dxe5,Nxe5,Be2,O-O,O-O,Rac8,b3,d5,cxd5,cxd5,Qg5,Nxf3+,Bxf3,Qxc3,Rfc1,Qd4,Rd1,Qb2,Rab1,Qc3,Bxd5,Nxd5,Rxd5,Qc2,Rbd1,Qxa2,Rd7,Qxb3,Re1,a6,Ree7,b5,Qf6,Rc1+,Kh2,Qb1,Rxf7,Rh1+,Kg3,Qb3+,f3,Rxf7', 'Rd8+,Rf8,Qxf8#', 'https://lichess.org/training/u0k2y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u0loJ', 'Rapid', 'Romaha29', 1795, 'taschilin2', 1849, 'e4,e6,Nf3,d5,Nc3,c5,d4,Nc6,Bg5,Qb6,b3,cxd4,Na4,Qa5+,Bd2,Qc7,Bb5,dxe4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,Qxc6,O-O,Nf6,Qe2,Be7,c4,O-O,Nc3,Rad8,Rfe1,Rd4,Rac1,Rfd8,Be3,Rd3,Bxa7,b6,Na4,Bc5,Rcd1,Rxd1,Rxd1,Rd7,Bb8,e5,Bxe5,h6,h3,Qe6,Bxf6,Rxd1+,Qxd1,Qxf6,Nxc5,bxc5,Qd5,Qa1+,Kh2,Qxa2,Qxc5,Qxb3,Qd4,Qb8+,g3,Qe8,c5,Qc6,Qd6,Qxd6,cxd6,Kf8,g4,Ke8,Kg3,g6', 'Kf4,Kd7,Ke5', 'https://lichess.org/training/u0loJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U0Lz6', 'Rapid', 'nani143', 1750, 'sasha1972', 1678, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,Bxf6,Bxf6,e3,O-O,Be2,Nc6,cxd5,exd5,Nc3,Bf5,Qb3,Be6,O-O,Rb8,Qc2,Qd7,Bb5,a6,Bxc6,Qxc6,Ne5,Bxe5,dxe5,Rfe8,f4,g6,Qf2,Rbd8,Rac1,Qb6,b3,d4,exd4,Qxd4,Qxd4,Rxd4,Ne2,Rd2,Nc3,c6,Ne4,Rxa2,Nf6+,Kf8,Nxe8,Kxe8,b4,Rb2,Rb1,Rxb1,Rxb1,Kd7,Kf2,b6,Ke3,c5,bxc5,bxc5,Kd3', 'Bf5+,Kc4,Bxb1', 'https://lichess.org/training/U0Lz6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u0orp', 'Blitz', 'BE9000', 2461, 'FM Punchableface', 2425, 'e4,e6,Qe2,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nc6,g3,Nf6,Bg2,Bb4,O-O,O-O,a3,Bxc3,dxc3,Qh5,Bg5,e5,Rfe1,Bg4,h3', 'Bxf3,Bxf3,Qxg5', 'https://lichess.org/training/u0orp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u0Pp3', 'Rapid', 'kayoni', 1834, 'Nakamura_San', 2108, 'e4,e5,Nf3,Nc6,g3,g6,Bg2,Bg7,O-O,Nf6,c3,Nxe4,Nxe5,Nxc3,Nxc6,Nxd1,Nxd8,O-O,Nxf7,Nxb2,Nc3,Nd3,Ng5,Rf5,h4,h6,Nf3,c6,Ba3,b6,Rab1,Ba6,Rfd1,Re8,Kh2,c5,g4,Rf4,Nd5,Rxg4,Nc7,Rf8,Nxa6,Rxf3,Bxf3', 'Be5+,Kh3,Nxf2#', 'https://lichess.org/training/u0Pp3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u0R0P', 'Blitz', 'FullEmptyPajamas', 1658, 'ninepoints', 1675, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,Nf3,Nf6,e5,dxe5,dxe5,Qxd1+,Kxd1,Ne4,Be3,Bg4,Be2,O-O-O+,Kc2,Nb4+,Kb3,e6,a3,Nd3,Bxd3,Rxd3+,Kc4,Rd5,Ng5,b5+,Kb3,Be2,Nxf7,Rg8,Ng5,Nc5+,Bxc5,Bxc5,Nxe6,Rxe5,Nxc5,Rxc5,Nc3,Bc4+,Kb4,Rf5,f3,Kb7,Rae1,Kb6,a4', 'a5+,Ka3,b4#', 'https://lichess.org/training/u0R0P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U0soW', 'Rapid', 'fabioloso', 2130, 'Hdavachi', 2122, 'e4,e5,Nf3,d6,d4,Nd7,Bc4,Nb6,Bb3,Qf6,h3,Be6,d5,Bd7,O-O,h6,Be3,g5,Nh2,h5,g4,hxg4,Nxg4,Qg6,Qf3,Qh5,Kg2,Be7,Rh1,O-O-O,Nc3,Rf8,Nh2,Bxh3+,Kg1,Qg6,Ng4,Qh5,Qf5+,Kb8,Bxb6,axb6,f3,Nh6,Nf6,Nxf5,Nxh5,Rxh5,exf5,g4,fxg4,Rg8,Kf2,Rxg4,Ne2,Rg2+,Kf3,Rxf5+,Ke3,Bg5+,Kd3,e4+,Kc4,Rxe2,Rxh3,Rf3,Rh8+,Ka7,a4,Rd2,a5,b5+,Kxb5,e3,a6,b6,Rc8,Bd8,Rxd8,Rf5,Rc8,Rfxd5+,Bxd5,Rxd5+,Kc6,Rc5+,Kd7,d5,Rxc7+,Rxc7+,Kxc7,d4,Re1,f5,Kd6,f4,Ke5', 'f3,Kxd4,f2,Rxe3,f1=Q', 'https://lichess.org/training/U0soW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U0UMZ', 'Rapid', 'vildeR', 1974, 'Aomo', 1973, 'e3,e5,Qh5,Nc6,Bb5,g6,Qg4,Nf6,Qg3,d6,Bxc6+,bxc6,Nc3,Bg7,Qf3,Bb7,Ne4,c5', 'Nxf6+,Bxf6,Qxb7', 'https://lichess.org/training/U0UMZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u0Yuw', 'Rapid', 'SAHASRA16', 1758, 'Fadillah05', 1722, 'e4,e5,f4,d6,Nf3,c6,Bc4,Nf6,d3,exf4,Bxf4,Be6,Bxe6,fxe6,c3,Qb6,Qe2,Be7,Be3,Qc7,Ng5,Qd7,O-O,O-O,Nd2,c5,d4,b6,e5,Nd5,Qh5,Bxg5,Bxg5,Nc6,c4,Nde7,Ne4,dxe5,d5,exd5,Bxe7,Rxf1+,Rxf1,dxe4', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/u0Yuw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u10iy', 'Rapid', 'bazengaGM', 1608, 'erfaniian', 1613, 'e4,d5,exd5,Nf6,Nf3,Nxd5,c4,Nb4,d4,Bg4,Be2,Nd7,a3,Na6,b4,c6,O-O,Bxf3,Bxf3,e6,d5,cxd5,Re1,Be7,Bb2,O-O,cxd5,exd5,Bxd5,Rb8,Qf3,b6,Be5,Nxe5,Rxe5,Bf6,Rf5,Bxa1,Bxf7+,Kh8,Qh5,Qe7', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/u10iy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U149t', 'Rapid', 'msanchezh', 2281, 'Alumaan', 2199, 'd4,Nf6,Nf3,g6,e3,Bg7,Be2,d5,O-O,O-O,b3,c5,Bb2,cxd4,exd4,Nc6,Nbd2,Ne4,c4,Bf5,h3,Nxd2,Qxd2,Qd7,Rac1,Rad8,c5,Rfe8,b4,a6,a4,a5,b5,Nb4,Bc3,f6,Bxb4,axb4,Qxb4,e5,b6,Re6,Bb5,Qc8,a5,Bh6,Ra1,Be4,dxe5,Bxf3,gxf3,Rxe5,Kg2,d4,h4,Rxc5,a6,bxa6,b7,Qxb7', 'Bc4+,Rxc4,Qxb7', 'https://lichess.org/training/U149t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u17dN', 'Classical', 'guerfoton', 1651, 'jsimm', 1627, 'c4,e5,Nc3,Bc5,Na4,Be7,d3,Nc6,a3,a6,Nc3,Bc5,e3,Nf6,Nd5,O-O,Nf3,Re8,e4,Nxd5,cxd5,Nd4,Be2,d6,O-O,Bg4', 'Nxd4,Bxd4,Bxg4', 'https://lichess.org/training/u17dN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u182m', 'Blitz', 'IM chargemax23', 2705, 'The_ChessTeacher', 2601, 'd4,g6,Bf4,Bg7,e3,c5,c3,cxd4,exd4,Nf6,Nd2,O-O,h3,d6,Ngf3,Nc6,Bb5,Qb6,a4,a6,Nc4,Qc7,Bxc6,Qxc6,Ne3,Nd5,Nxd5,Qxd5,O-O,b5,Re1,Bf6,axb5,axb5,Rxa8,Qxa8,Bh6,Re8,Ng5,Bxg5,Bxg5,Be6,h4,Qd5,Qa1,f6,Bf4,Kf7,Qa7,Ra8,Qc7,Ra2,b3,Rc2,Re3,Qxd4,Qxe7+,Kxe7,cxd4,Kd7,Bg3,Bd5,f3,f5,Bf4,Rb2,Bg5,Be6,d5,Bxd5,Re7+,Kc6,Rxh7,Rxb3,Rg7,Rb1+,Kh2,Rb2,Kg3,b4,Rxg6,b3,Bf4', 'Rxg2+,Kxg2,b2,Rxd6+,Kc5', 'https://lichess.org/training/u182m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U1aQW', 'Rapid', 'Hagard', 2112, 'LMFG', 1951, 'd4,d5,c4,e6,Nc3,dxc4,e4,b6,Bxc4,Bb7,Nf3,Nf6,Qe2,Bb4,Nd2,O-O,a3,Be7,Nf3,Nc6,Be3,a6,O-O,b5,Ba2,Na7,Bf4,c5,Rad1,cxd4,Rxd4,Qb6,Rfd1,Bc5,R4d2,Nc6,b4,Nxb4,axb4,Bxb4,Be3,Qa5,e5,Bxc3,exf6,Bxd2,Bxd2,Qxa2,fxg7,Rfd8,Ne5,Qd5,f3,Rac8,Ng4,Kxg7', 'Bh6+,Kg6,Rxd5', 'https://lichess.org/training/U1aQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U1BH2', 'Rapid', 'Lima30', 1641, 'salimduman', 1622, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Bc5,e5,Ng4,h3,Ngxe5,Nxe5,Nxe5,Re1,d6,f4,f6,fxe5,dxe5,Rxe5+,fxe5,Qh5+,g6', 'Qxe5+,Qe7,Qxh8+', 'https://lichess.org/training/U1BH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U1Drm', 'Blitz', 'MasniakYurii', 1901, 'Spinnixx', 2216, 'e4,c6,d4,d5,exd5,cxd5,Nf3,g6,Be2,Bg7,O-O,Nf6,Be3,O-O,Nbd2,Nc6,c4,dxc4,Nxc4,Nd5,Qd2,Bf5,Bh6,Rc8,Bxg7,Kxg7,Ne3,Qd7,Bc4,Nxe3,fxe3,Be4,Ng5,Bd5,Bxd5,Qxd5,Nf3,e5,Rad1,exd4,Nxd4,Nxd4,exd4,Rfe8,Qf4,Rc6,Rd3,Re4,Qf2,Rd6,Rf3,f5,Kh1,Qxd4,Qc2,Qd2,Qc7+,Rd7,Qc5,Qxb2,Rxf5,gxf5,Qxf5,Qd4', 'Qg5+,Kh8,Rf8#', 'https://lichess.org/training/U1Drm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u1Ebd', 'Rapid', 'WOQ', 1781, 'Acerb8', 1654, 'e4,b6,d4,Bb7,Nc3,e6,f4,Nf6,Bd3,Bb4,Qe2,g6,Nf3,c5,dxc5,Bxc5,Be3,Nh5,g3,Nc6,Bxc5,bxc5,Qe3,d6,f5,Nd4,Nxd4,cxd4,Qxd4,e5,Qa4+,Qd7,Qxd7+,Kxd7,O-O-O,Rhd8,Nb5,gxf5,Rhe1,f4,Bc4,Ke7,gxf4,Nxf4,Rf1,Bxe4,Nc7,Rac8,Nd5+,Nxd5,Bxd5,Rxc2+,Kb1,Rf2+,Bxe4,Rxf1,Rxf1,d5,Bxh7,e4,Kc2,Rd6,Bf5,Rf6,Bh3,Rc6+,Kd2,d4,Rc1', 'e3+,Kd1,e2+,Kxe2,Rxc1', 'https://lichess.org/training/u1Ebd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U1FdX', 'Rapid', 'hadir2502', 1969, 'sarthok222', 1902, 'd4,e5,d5,d6,e4,c6,c4,c5,Nc3,f5,Nf3,f4,Bd3,Bg4,Bd2,Nf6,Qa4+,Qd7,Nb5,Na6,Qb3,Bxf3,gxf3,Qh3,Be2,Qg2,O-O-O,Qxf2,Rde1,Qh4,Reg1,g6,Be1,Qh6,h4,Nh5,Qa4,Kf7,Kb1,Qg7,Nc3,Qf6,Nd1,Qe7,Nf2,Bg7,Ng4,Nc7,Qb3,Rhb8,Bd1,a6,Qb6,Qd7,Ba5,Ne8,Bb3,Ng3,Rh2,Nf6,Nxf6,Bxf6,Bd1,Bd8,Qb3,Bxa5,Qc2,b5,cxb5,Qxb5,Qg2,Qd3+,Ka1,Rb6,h5,g5,Qh3,Re8,Qd7+,Re7,Qg4,Bc3,Bb3,c4,Ba4,Bxb2+,Rxb2,Rxb2,Kxb2,Rb7+,Bb3,cxb3,Qe6+,Kg7,h6+,Kf8,Qxd6+,Kf7', 'Qe6+,Kf8,Qc8+', 'https://lichess.org/training/U1FdX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U1gUj', 'Blitz', 'janmikvall000', 1629, 'Pomorska', 1594, 'e4,Nc6,Nc3,e5,Nf3,Bb4,d3,Nf6,a3,Bxc3+,bxc3,O-O,Be2,d5,exd5,Qxd5,O-O,Bg4,h3,Bxf3,Bxf3,Qe6,a4,Rad8,Re1,Rfe8,Bd2,Qf5,Qb1,e4,Qxb7,exf3,Qxc6,fxg2,Qxg2,Nh5,Qg5,Qxh3,Re3,Rxe3', 'Qxd8+,Re8,Qxe8#', 'https://lichess.org/training/U1gUj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u1hDq', 'Rapid', 'hernangparra', 2106, 'The_556_2000_512', 2156, 'c4,Nf6,Nc3,g6,d4,d5,e3,Bg7,Nf3,O-O,cxd5,Nxd5,Bc4,Be6,Nxd5,Bxd5,Bxd5,Qxd5,O-O,Rd8,Bd2,c5,Bc3,Nc6,dxc5,Bxc3,bxc3,Qxc5,Qb3,Na5,Qb4,Rac8,Rac1,b6,Nd4,Nc4,Nb3,Qe5,Nd4,Nd6,c4,Qc5,Qa4,Rc7,Nb5,Nxb5,Qxb5,Rdc8,Qb2,b5,Rfd1,bxc4,Rd4,c3,Qc2,Qa3,Ra4,Qb2,h3,Rd8,Rd4,Rxd4,exd4,e6,Kh2,Kf8,f3,Ke7', 'Qxb2,cxb2,Rxc7+,Kd6,Rb7', 'https://lichess.org/training/u1hDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u1Htb', 'Rapid', 'ilkerguc61', 2027, 'balthusk', 1900, 'Nf3,d5,d4,Nc6,c4,Nf6,Nc3,e6,Bg5,Be7,e3,O-O,Bd3,h6,Bh4,Nd7,O-O,a6,cxd5,exd5,Bxe7,Nxe7,e4,c5,exd5,cxd4,Nxd4,Nf6,d6,Qxd6,Ndb5,Qb4,Nc7,Rb8,Qf3,Bg4,Qg3,Qxb2,Ne4,Nf5', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/u1Htb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u1I0X', 'Rapid', 'MauroGobernatori', 1771, 'patopelle', 1631, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Re1,Bc5,c3,O-O,Bb3,d6,h3,Be6,d3,Qd7,Bxe6,fxe6,Nbd2,Qf7,Nb3,Bb6,d4,exd4,cxd4,Ne7,Qc2,Ng6,Bd2,d5,exd5,exd5,Bb4,Rfe8,Nbd2,a5,Ba3,Re6', 'Rxe6,Qxe6,Qxg6', 'https://lichess.org/training/u1I0X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u1J8Q', 'Blitz', 'emrekalender', 2072, 'Enis_Metinn57', 2208, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,Re1,Nc6,c3,g6,d4,cxd4,cxd4,d5,e5,Ne4,Nbd2,Nxd2,Bxd2,Bg7,Rc1,O-O,a3,Rac8,Rc3,e6,h4,f5,h5,b6,hxg6,hxg6,g3,Na5,Kg2,Nc4,Qc1,Nxd2,Qxd2,Rxc3,Qxc3,Rc8,Qd2,Rc4,Rh1,a5,Qg5,Kf7,Nh4,Rxd4,Qxg6+,Kf8,Qg5,Rc4,Ng6+,Ke8,Rh7,d4,Nf4,Qc6+,Kh2,Rc1,Qh5+,Kd8,Nxe6+,Kc8,f3', 'Qc2+,Kh3,Rh1#', 'https://lichess.org/training/u1J8Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u1mnT', 'Rapid', 'DevonSmit', 1696, 'Vladimir777Rudzei', 1740, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,c3,dxc3,bxc3,Bc5,d4,Bb6,O-O,Ne7,f4,O-O,f5,Nc6,Qg4,d6,Rf3,Ne5,Qg3,Nxf3+,gxf3,Kh8,Bg5,Qe8,Nd2,Ba5,f6,g6,Bh6,Rg8,Kf2,Bxc3,Rg1,Bxd4+,Kf1,Bxg1,Qxg1,c6,Qg3,Be6,Kf2,Bxc4,Nxc4,d5,Nd6,Qd7,Nf5,dxe4,fxe4,Rae8,Qc3,Rxe4', 'Bg7+,Rxg7,fxg7+,Kg8,Nh6#', 'https://lichess.org/training/u1mnT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u1SRw', 'Rapid', 'buktop69', 1695, 'ibela', 1687, 'e4,f6,Nc3,Kf7,d4,c5,d5,e6,d6,Nc6,Nf3,Nh6,Bxh6,gxh6,Be2,Rg8,Rg1,b6,Nb5,Ba6,Nc7,Bxe2,Qxe2,Bxd6,Nxa8,Qxa8,O-O-O,Ke7,Qd3,Bf4+,Kb1,Qb7,g3,Be5,Nxe5,Nxe5,Qe2,b5,f4,Nc4,f5,e5,Qd3,a5,Qd5,Qxd5,exd5,Ne3,Rd3,Nxf5,Rf1,Nd6,h3,c4,Rdf3,Rg6,h4,h5,Rg1,f5,Re3,e4,Rd1,Kf6,c3,Ke5,Rg1,Kxd5,Rd1+,Ke5,b3,f4,gxf4+,Kxf4,Rde1,Re6,b4,axb4,cxb4,Nf5,Rh3,d5,Kb2,d4,a4,e3,axb5,d3,Kc3,d2,Rf1+,Ke4,Rhf3,d1=Q', 'Rf4+,Ke5,Rxf5+,Kd6,Rxd1+', 'https://lichess.org/training/u1SRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U1Thm', 'Rapid', 'THE_GENTLEMAN04', 1790, 'Merol1', 1807, 'e4,e5,Bc4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,Nxe5,Qe7,O-O,Bd7,Nxd7,Kxd7,Qg4+,Kc7,d4,Qb4,Bf4+,Bd6,c3,Qxb2,Bxd6+,Kxd6,Qf4+,Kd7,Qxf7+,Ne7,Re1,Qxb5,Na3,Qb2,Rab1,Qxa3,Rxb7+,Kc8,Qe6+,Kxb7,Rb1+,Ka6', 'Qe2+,Ka5,Qb5#', 'https://lichess.org/training/U1Thm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U1v0R', 'Blitz', 'karimtabrizi', 1670, 'borisovvladimir', 1765, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,f4,Qa5+,Bd2,Qb6,Bd3,Qxb2,Bc3,Bb4,Qd2,Bxc3,Qxc3,Qxc3+,Nxc3,exf4,O-O,Nf6,e5,Nd5,Nxd5,cxd5,c4,dxc4,Bxc4,g5,Rfe1,O-O,Rab1,a5,Bd5,Ra7,Rb5,Re8,Rb8,Kf8,Rc1,Ba6,Rb6,Rxe5,Bf3,Rc7,Rxc7', 'Re1+,Kf2,Rf1#', 'https://lichess.org/training/U1v0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U1W5A', 'Rapid', 'Beatus', 1790, 'Alnavi', 1942, 'c4,e5,Nc3,Nf6,g3,Nc6,Bg2,Bc5,e3,O-O,Nf3,e4,Ng5,d6,Ngxe4,Bf5,Nxf6+,Qxf6,d4,Bb4,O-O,Bxc3,bxc3,Rfe8,Re1,Na5,Qa4,Nc6,Bxc6,bxc6,Qxc6', 'Be4,Qxe4,Rxe4', 'https://lichess.org/training/U1W5A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U1wpz', 'Rapid', 'george17', 1716, 'Zerst', 1691, 'e4,e5,g3,Bc5,Bg2,d6,d3,a6,c3,h6,Bd2,Nc6,b4,Ba7,a4,Nf6,b5,axb5,axb5,Ne7,Be3,b6,f4,Bb7,Ra2,O-O,fxe5,dxe5,c4,Qd7,Rd2,Ng4,Bf2,Nxf2,Rxf2,c6,Nc3,f5,Bh3,Qd4,Nge2,Qd6,O-O,fxe4,Rxf8+,Rxf8,Rxf8+,Kxf8,Qf1+,Kg8,Nxe4,Qxd3,Be6+,Kh8,Qf8+,Kh7,Bf5+,Nxf5,Qxf5+,Kg8', 'Nf6+,gxf6,Qxd3', 'https://lichess.org/training/U1wpz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U1xk7', 'Blitz', 'salama122', 2228, 'angelcua', 1843, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bb4+,c3,dxc3,bxc3,Ba5,Qb3,Qe7,O-O,Nh6,Ba3,d6,e5,Nxe5,Nxe5,O-O,Nf3,Qf6,Nbd2,Qg6,Rfe1,Bh3,g3,Nf5,Ne4,Bb6,Nfg5,Qh5,Nxh3,Qxh3,Bxf7+,Kh8,Ng5', 'Bxf2+,Kxf2,Qxh2+,Kf3,Qxg3+', 'https://lichess.org/training/U1xk7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u1XtV', 'Rapid', 'telemarkdad', 1686, 'mat_123', 1643, 'd4,d5,Bf4,h6,e3,a6,c4,Nf6,Nc3,dxc4,Bxc4,b5,Bb3,Nc6,Nge2,Na5,Bc2,e6,O-O,Bd6,Be5,Bxe5,dxe5,Qxd1,Raxd1,Nd7,f4,O-O,b3,Nc6,Ne4,Nb4,Bb1,Rd8,a3,Nc6,Rc1,Bb7,Rfd1,Nb6,Nd4,Nxd4,exd4,Bxe4,Bxe4,Rac8,Bb7,Rb8,Bxa6,Nd5,Rc6,Rb6,Rxb6,cxb6,Bxb5', 'Nc3,Rd3,Nxb5', 'https://lichess.org/training/u1XtV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u1zWO', 'Classical', 'v_A_v', 1699, 'mahmoodt_d', 1793, 'e4,e5,d3,Nc6,f4,exf4,Bxf4,d6,Nf3,Bg4,Nc3,Nd4,h3,Nxf3+,gxf3,Qh4+,Kd2,Bxh3,Ne2,g5,Rxh3,Qxh3,Bxh3,gxf4,Nxf4,Nf6,Qe1,Bh6,Qe3,Nh5,Kc3,Bxf4,Qg1,Kf8,Qg4,Ng3,Re1,Be5+,d4,Rg8,Qxg8+,Kxg8,dxe5,dxe5', 'Rg1,Kf8,Rxg3', 'https://lichess.org/training/u1zWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u21Iz', 'Blitz', 'PellinoreDunderhead', 1538, 'Ardaferiz', 1512, 'd4,d5,c4,dxc4,e3,b5,a4,c6,axb5,cxb5,Qf3,e6,Qxa8,Bb4+,Bd2,Bd6,Qxa7,Nf6,Qa5,Bc7,Qxb5+,Bd7,Qxc4,Ne4,Bd3,Nd6,Qc2,O-O,Nf3,f5,Ne5,Be8,O-O,Nc6,Nxc6,Qh4,Ne5,Bb8,Ra8,Bh5,Bb4,Nf7,Bxf8,Nxe5,Rxb8', 'Nf3+,gxf3,Qg5+,Kh1,Bxf3#', 'https://lichess.org/training/u21Iz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u27Dw', 'Blitz', 'riadcabablanca', 1623, 'denkora', 1678, 'c4,e5,Nc3,Nf6,g3,Bb4,Bg2,O-O,a3,Bxc3,bxc3,Nc6,d4,d5,cxd5,Nxd5,e4,Nxc3,Qb3,Qxd4,Bb2,Be6,Qxc3,Qxc3+,Bxc3,Rfd8,Ne2,Rd3,O-O,a5,Rfc1,a4,Bf1,Rd7,Bb2,Bg4,Nc3,Rd2,Rab1,Nd4,Bg2,Nb3,Re1,Rad8,Nd5,c6,Ne3,Be6,Bxe5,f6,Bc3,R2d3,Bb4,c5,Bf1,cxb4,Bxd3,Rxd3,Red1,Rc3,axb4,a3,Rd8+,Kf7,Ra8,Nd2,Rd1,Rd3,Nd5,Nf3+,Kg2,Nh4+,gxh4', 'Bh3+,Kg1,Rxd1#', 'https://lichess.org/training/u27Dw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u2Bom', 'Blitz', 'kunc99', 2117, 'WCM BashirliSaadat', 2083, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,c4,Bg7,Be3,Nxd4,Bxd4,Nf6,Nc3,d6,Be2,O-O,O-O,Be6,f3,b6,Be3,Rc8,Nd5,Nxd5,cxd5,Bd7,Qd2,Qc7,Rfc1,Qb7,Rab1,a5,Bd3,a4,b3,a3,Qe2,Bb2,Rxc8,Rxc8', 'Ba6,Rc2,Qxc2', 'https://lichess.org/training/u2Bom');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u2bPK', 'Rapid', 'albertenisten1', 1749, 'COGNIZAND', 1770, 'e4,e6,Nf3,c5,Bb5,Nc6,O-O,a6,Be2,b5,c3,Bb7,d4,cxd4,cxd4,Nf6,e5,Nd5,Nc3,Nb6,d5,exd5,Nxd5,Nxd5,Qxd5,Qc7,Re1,Be7,Ng5,Nxe5,Qd4,O-O,Bf4,Bf6,Ne4,Nf3+', 'Bxf3,Bxd4,Bxc7', 'https://lichess.org/training/u2bPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u2C3I', 'Rapid', 'HACOC', 1744, 'oeil', 1768, 'e4,d5,exd5,e6,dxe6,Bxe6,Nc3,Bd6,Nf3,Qe7,d4,Bg4+,Be3,Bxf3,gxf3,Nc6,d5,Ne5,f4,Ng6,Qe2,Nxf4,Bxf4,Bxf4,Bh3,g6,O-O,Qxe2,Nxe2,Bd6,Rfe1,Ne7,c4,f5,c5,Bxc5,Rac1,Bd6,Nd4,O-O-O,Nb5,a6', 'Nxd6+,Rxd6,Rxe7', 'https://lichess.org/training/u2C3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u2d0r', 'Blitz', 'FM Gatiloco77', 2411, 'elmasmalodetodos', 2358, 'd4,Nf6,Nf3,c6,g3,d5,Bg2,Bg4,Ne5,Bf5,O-O,Nbd7,f4,h5,e3,e6,Nd2,h4,g4,Bh7,h3,Be7,Qe1,Ne4,Nxe4,dxe4,Bd2,f6,Nc4,Nb6,b3,Qd5,Nb2,g5,c4,Qd7,fxg5,fxg5,a4,Qc7,a5,Nd7,b4,O-O-O,Qb1,Qg3,Qe1,Qxe1,Bxe1,Rdf8,Rxf8+,Rxf8,Bc3,Bg6,Rf1,Rxf1+,Bxf1,Bf6,Nd1,e5,d5,cxd5,cxd5,Kc7,b5,Bf7,Bc4,Be7,Kf2,Bc5', 'd6+,Kxd6,Bxf7', 'https://lichess.org/training/u2d0r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u2DJf', 'Rapid', 'cani44', 1825, 'Rajapirka', 1837, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bc4,c5,Qd3,Be7,Bd2,O-O,O-O,a6,a3,b5,Bd5,Ra7,f4,Nxd5,Nxd5,Bb7,Nxe7+,Qxe7,Rae1,Rd8,Bc3,f6,Re3,Bc6,Rfe1,Rad7,Rh3,g6,Rg3,Qf7,h4,Re8,h5,Kg7,f5,g5,Rxg5+,Kh8,h6,Rg8,Rxg8+,Kxg8,Qg3+,Kf8,Qh4,Ke7,e5,dxe5,Rxe5+,Kd8,Rxc5,Kc7,Qg3+,Kb7,Ba5,Rd1+,Be1,Kb6,Qf2,Kb7,Rc3,Qg8,Qe2', 'Rxe1+,Kf2,Rxe2+', 'https://lichess.org/training/u2DJf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U2dYJ', 'Rapid', 'Nytik', 2193, 'DARKITUS', 2309, 'd4,d5,Bf4,Nf6,e3,Bf5,c4,e6,Nc3,Bb4,Qb3,Nc6,a3,Bxc3+,bxc3,Na5,Qa4+,c6,Nf3,dxc4,Bxc4,b5,Bxb5,cxb5,Qxb5+,Kf8,Nd2,Rc8,c4,Bd3,Rc1,Kg8,Rc3,Bg6,O-O,Nd5,cxd5,Rxc3,e4,exd5,exd5,h6,Nf3,Kh7,Ne5,Qb6,Qa4,Nb7,Bd2,Rcc8,Bb4,a5,Be7,Rhe8,Nd7,Qc7,Bh4,Qf4,Bg3,Rc1,Bxf4', 'Rxf1+,Kxf1,Bd3+,Kg1,Re1#', 'https://lichess.org/training/U2dYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u2fkf', 'Classical', 'Paramarth', 1825, 'mainak2010', 1831, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,d5,Bb5,Ne4,Nxd4,Bc5,Be3,O-O,Nxc6,bxc6,Bxc5,Nxc5,Bxc6,Rb8,Qxd5,Qe7,O-O,Rxb2,Nc3,Rxc2,Qd4,Ne6,Qd3,Rb2,Nd5,Qc5,Rac1,Qa5,Ne7+,Kh8,Rc3,Ba6', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/u2fkf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u2k89', 'Rapid', 'bossbabyisback100', 1880, 'Picapleitos85', 1864, 'e4,c6,d3,d5,Nd2,Nf6,e5,Nfd7,d4,Nb6,Ngf3,Bg4,h3,Bh5,g4,Bg6,Bg2,e6,O-O,c5,c3,cxd4,cxd4,Nc6,a3,a5,Re1,Be7,Nf1,Rc8,Bf4,h5,g5,h4,Ne3,Be4,Ng4,a4,Nf6+,gxf6,gxf6,Bf8,Ng5,Bg6,Bf1,Bh6,Bb5,Bxg5,Bxg5,Nd7,Be3,Na7,Bxa4,b5,Bb3,Bf5,Kh2,Nf8,Rg1,Ng6,Rc1,Nc6,Rc5,Qb6,Qd2,Kd7,Rgc1,Na5,Bd1,Rxc5,dxc5,Qc7,c6+,Kc8,Bd4,Nc4,Qb4,Qa5', 'Rxc4,Qxb4,Rxb4', 'https://lichess.org/training/u2k89');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U2LO0', 'Rapid', 'idontcareaboutwins', 1564, 'tipsy_mallard', 1642, 'e4,Nf6,Nc3,d6,d4,Nc6,Nf3,Bg4,d5,Ne5,Be2,Bxf3,Bxf3,c6,O-O,cxd5,exd5,Rc8,Qd4,b6,Qa4+,Nfd7,Qxa7', 'Ra8,Qb7,Nc5,Qc6+,Nxc6', 'https://lichess.org/training/U2LO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U2p0O', 'Rapid', 'ratzifatzi', 1997, 'Naamafantti', 2169, 'e4,c6,d4,d5,e5,c5,dxc5,Nc6,Nf3,Bg4,Bb5,e6,Be3,Ne7,h3,Bh5,O-O,Nf5,Bg5', 'Bxf3,Bxd8,Bxd1', 'https://lichess.org/training/U2p0O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u2Phq', 'Bullet', 'Zoll_Alexey', 2086, 'KingDeathGR', 2021, 'e4,c5,Nf3,e6,c3,Nc6,d4,cxd4,cxd4,d5,e5,Qb6,Nc3,Bb4,Be2,Nge7,O-O,Nf5,a3,Be7,Be3,Qxb2,Nb5,O-O,Rb1,Nxe3,fxe3,Qa2,Rf2,a6,Bd3,Qxf2+,Kxf2,axb5,Rxb5,Rxa3,h4,f5,exf6,Bxf6,Kg1,e5,dxe5,Bxe5,Rxd5,Bg3,Bxh7+,Kxh7,Rh5+,Kg8,Ng5,Bf2+,Kh1,Ne7', 'Rh8+,Kxh8,Qh5+,Kg8,Qh7#', 'https://lichess.org/training/u2Phq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U2Uot', 'Rapid', 'umutacar80', 1862, 'Cause_Complications', 1954, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Nf6,d3,Bc5,Bg5,Bxf2+,Kf1,Bd4,Nc4,h6,c3,Bg4,Qxg4,Nxg4', 'Bxd8,Rxd8,cxd4', 'https://lichess.org/training/U2Uot');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u2Xqc', 'Rapid', 'leibek', 1937, 'ElCaballoSchrodinger', 1981, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nb3,Be6,Be3,d5,exd5,Nxd5,O-O,Nxc3,bxc3,Be7,Qd2,O-O,Rad1,Nd7,h3,Qc7,f4,Bf6,f5,Bd5,Kh1,Bc6,Bg5,Rfe8,h4,Rad8,Qf2,e4,Be2,h6,Bf4,Be5,Bxe5,Qxe5,Nd4,e3,Qf4,Qc5,Qg3,Qxc3,Nxc6,Qxc6,Rde1,Qxc2,f6,Qg6', 'Qxg6,fxg6,f7+', 'https://lichess.org/training/u2Xqc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u38uA', 'Blitz', 'LordofFracchia', 1516, 'majovbratranec', 1569, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,Bg4,O-O,Nc6,h3,Bxf3,Qxf3,Nd4,Qd1,e6,Bg5,Be7,Nc3,O-O,Ne2,Nxe2+,Qxe2,d5,Bb3,dxe4,dxe4,Nxe4,Bxe7,Qxe7,Qxe4,b6,Rad1,Qg5,c4,f5,Qf3,Rae8,g3,Qh6,h4,Rf6,Qc6,Ref8,Kg2,f4,Rde1,f3+,Kh2,g5,Re5', 'gxh4,g4,Qf4+,Kh3,Qxe5', 'https://lichess.org/training/u38uA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u3CCa', 'Rapid', 'sirohach', 1926, 'copySvetlana', 2170, 'e4,c6,d4,d5,Nc3,h6,Nf3,Bg4,Be2,dxe4,Nxe4,Bxf3,Bxf3,Nd7,O-O,Ngf6,Be3,Nxe4,Bxe4,e6,c3,Be7,Qg4,g5,Qd1,Qb6,Qc2,O-O-O,d5,Bc5,Bxc5,Nxc5,dxc6,Nxe4,Qxe4,Qxc6,Qe3,Qb6,Qxb6,axb6,Rfd1,Rxd1+,Rxd1,Rd8,Rxd8+,Kxd8,g4,Kc7,Kg2,Kc6,Kf3,Kd5,Ke3,f5,gxf5,exf5,f3,h5,h3,h4,b3,b5,Kd3', 'g4,fxg4,fxg4', 'https://lichess.org/training/u3CCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u3Eqd', 'Rapid', 'Voidle', 1903, 'abuzon', 1915, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,h6,Be2,d5,exd5,Nxd5,O-O,Bc5,d4,exd4,Nxd4,Nxd4,cxd4,Bd6,Bf3,c6,Re1+,Be6,Bxd5,cxd5,Nc3,O-O,a3,Qh4,g3,Qh3,Qf3,Rae8,Be3,h5,Nxd5,h4,Nf4,Bxf4,Bxf4,hxg3,Bxg3,Rd8,Re5,Rxd4,Rh5,Qg4,Qxg4,Bxg4,Rg5,f6,Rb5,Bf3,Rb3,Bd5,Re3,Rd8,Ree1,f5,Red1,Bc6,Rxd4,Rxd4,Be5,Re4,Bc3', 'Rg4+,Kf1,Bb5+,Ke1,Rg1+,Kd2,Rxa1', 'https://lichess.org/training/u3Eqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U3GJu', 'Blitz', 'FranciscoQD', 2445, 'sherwin--tiu', 2456, 'Nf3,Nf6,d4,e6,c4,b6,g3,Bb7,Bg2,d6,O-O,Nbd7,Nc3,g6,Qc2,Bg7,e4,e5,d5,O-O,Ne1,a5,b3,Ne8,Nd3,h6,Be3,f5,f3,Nc5,Nxc5,bxc5,f4,exf4,Bxf4,Bc8,Rae1,g5,Bd2,Bd4+,Be3,Qf6,Bxd4,Qxd4+,Kh1,Ng7,e5,dxe5,Nb5,Qg4,Rxe5,f4,Nxc7,f3,Nxa8,fxg2+,Kxg2', 'Qh3+,Kg1,Qxf1#', 'https://lichess.org/training/U3GJu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u3Grs', 'Blitz', 'mathiasse', 1529, 'salyam', 2217, 'd4,d5,Bf4,c5,e3,Nc6,c4,cxd4,exd4,e6,Nf3,Nf6,Nc3,Bb4,cxd5,Nxd5,Bd2,O-O,Bc4,Nce7,O-O,a6,Nxd5,Nxd5,Bxd5,Bxd2,Bxb7,Bxb7,Nxd2,Qxd4,Nf3,Qg4,Kh1,Rfd8,Qb3,Bd5,Qe3,Rab8,h3,Qh5,Nh2,Rxb2,f3,Rxa2,Rxa2,Bxa2,Qb6,Qd5,Qxa6,Bc4,Qa7,Bxf1,Nxf1,Qd1,Qa6,h5,Kh2,h4,Ne3,Qd4,Nf1,Qf4+,Kg1,Rd1', 'Qc8+,Kh7,Qc2+,g6,Qxd1', 'https://lichess.org/training/u3Grs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U3Gx5', 'Rapid', 'CEKPET_TEPPOPA', 1815, 'AsphaltPaver', 1968, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,h6,Nf3,Bd6,h3,e4,Nd4,Bd7,O-O,O-O,Re1,Qc7,d3,exd3,Qxd3,Rad8,Bd2,Bc8,Qc3,Nb7,Nxc6,Rde8,Rxe8,Rxe8,Na3,Nc5,Nb5,Qxc6', 'Nxd6,Qxd6,Bxe8', 'https://lichess.org/training/U3Gx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u3Ky8', 'Blitz', 'jeevan', 1874, 'Abakanez', 1986, 'd4,e6,e3,d5,f4,Nf6,Nf3,Nbd7,Bd3,c5,c3,b6,O-O,Bb7,Ne5,Ne4,Nd2,Nxd2,Bxd2,Nf6,Bb5+,Ke7,Qa4,Ne4,Bc6,Qc7,Bxb7,Qxb7,Be1,Rc8,Kh1,f6,Nf3,g6,dxc5,Nxc5,Qd1,Bh6,Nd4,Ne4,Qf3,Rcf8,g4,e5,Ne2,f5,Bh4+,g5,fxg5,Bxg5,Bxg5+,Nxg5,Qg3,d4+,Kg1,d3,Qxe5+,Ne6,Nd4,Rf6,Nxf5+,Rxf5,gxf5,Rg8+,Kf2', 'Qg2+,Ke1,Qe2#', 'https://lichess.org/training/u3Ky8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U3mrv', 'Rapid', 'Cundang', 1661, 'kohmar', 1691, 'e4,e5,Nf3,d6,Bc4,Qf6,d4,Be7,Bg5,Qg6,Bxe7,Nxe7,O-O,exd4,e5,O-O,exd6,cxd6,Qxd4,Nbc6,Qh4,Nf5,Qe4,Bd7,Bd3,Rfe8,Qc4,Be6,Bxf5,Bxf5,Nh4,Qg5,Nxf5,Qxf5,Nc3,Ne5,Qc7,Re6,Qxb7,Rae8,Qxa7,Rg6,Qe3,Qh5,Ne2', 'Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/U3mrv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U3N9g', 'Rapid', 'Kenzo_Chess_Phoenix', 1799, 'abro16', 1936, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,cxd4,cxd4,Bd7,Nc3,Nxd4,Nxd4,Qxd4,O-O,a6,Ne2,Qxe5,a4,Bd6', 'Bf4,Qxf4,Nxf4', 'https://lichess.org/training/U3N9g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u3PPP', 'Rapid', 'mek89', 1694, 'lolik90', 1775, 'e4,e5,Nf3,f5,Bd3,fxe4,Bxe4,Nf6,Nxe5,Nxe4,Qe2,d5,d3,Nf6', 'Nc6+,Be7,Nxd8', 'https://lichess.org/training/u3PPP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U3RNt', 'Blitz', 'KjellePe', 1663, 'PerSoderberg', 1670, 'e4,c5,Nc3,e6,f4,d5,e5,Nc6,Nf3,h5,Be2,Nh6,Ng5,g6,d3,Be7,Nf3,Nf5,O-O,b6,Nb5,Bb7,Bd2,a6,Nc3,Qc7,Qe1,O-O-O,a3,h4,b4,h3,g3,cxb4,axb4,Bxb4,Qd1,Bc5+,Kh1,Ne3,Bxe3,Bxe3,Ng5,Nd4,Bg4,Qxc3,Nxf7,Nf5,Nxd8,Kxd8,Bf3,Nd4,Bg4,Nf5,Qf3,d4,Qxb7,Re8,Qxb6+,Ke7,Bxf5,gxf5,Rxa6,Kf7,Ra7+,Re7,Rxe7+,Kxe7,Qb7+,Ke8,Qb8+,Ke7,Qd6+,Kf7,Rb1,Qc8,Rb6', 'Qa8+,Qc6,Qa1+,Rb1,Qxb1#', 'https://lichess.org/training/U3RNt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U3SlV', 'Blitz', 'FM vidalnovich', 2340, 'zeusapolo2020', 2311, 'd4,Nf6,Nf3,e6,c4,b6,g3,Bb7,Bg2,Bb4+,Bd2,Qe7,O-O,O-O,Bc1,d5,cxd5,exd5,Bf4,Bd6,Bxd6,Qxd6,Nc3,c6,Rc1,Nbd7,Re1,Rfe8,Qc2,Re7,e4,dxe4,Nxe4,Nxe4,Rxe4,Rxe4,Qxe4,Nf6,Qf5,Re8,h4,h6,Ne5,Qxd4,Nxc6,Qxb2,Rc2,Qb1+,Kh2,h5,Ne7+,Rxe7,Rc8+,Bxc8,Qxb1,Ng4+,Kg1,Be6,Bf3,Rd7,Qb5,Rd2,Qxh5,Nxf2,Qe5,Nh3+,Kf1', 'Rf2+,Ke1,Rxf3', 'https://lichess.org/training/U3SlV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U3uHP', 'Classical', 'Enderblair', 1788, 'Jrmota', 1908, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,d5,a5,O-O,Nbd7,Be3,b6,Qc2,Nc5,a3,Ng4,Bg5,f6,Bh4,g5,Bg3,h5,h3,Nh6,b4,axb4,axb4,Rxa1,Rxa1,Nd7,Na4,Rf7,c5,f5,exf5,Nxf5,cxd6,cxd6,Rc1,Bb7,Qc7,Qxc7,Rxc7,Bxd5,Nxg5,Re7,Bxh5,Nxg3,fxg3,e4,Nxb6', 'Bd4+,Kh2,Bxb6', 'https://lichess.org/training/U3uHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u3Vzu', 'Blitz', 'alikahi2000', 1928, 'dadplayschess', 1922, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nxc6,bxc6,Bd3,Be7,O-O,Nf6,Bg5,O-O,Nd2,h6,Bh4,Bg4,f3,Bh5,Nb3,Nd7,Bxe7,Qxe7,Kh1,Rab8,Qd2,Qh4,Qf2,Qf6,c3,Ne5,Bc2,Qf4,Rab1,Nc4,Bd3,Ne3,Rfe1,Ng4,Qg3', 'Qxg3,hxg3,Nf2+,Kg1,Nxd3', 'https://lichess.org/training/u3Vzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u3W0h', 'Rapid', 'Turboplombir', 1731, 'Ester_Samsonova', 1988, 'e4,c6,Qf3,d5,exd5,cxd5,d4,Nc6,Ne2,Nf6,Nbc3,Bg4,Qd3,e6,Bg5,Bf5,Bxf6,Qxf6,Qd2,Bb4,a3,Bxc3,Qxc3,O-O,g3,Rfc8,Bg2,b5,Qd2,a5,O-O,b4,axb4,axb4,Rxa8,Rxa8,c3,bxc3,Qxc3,Ne7,b3,Rc8,Qa1,Ng6,Rc1,Qd8,Rxc8,Qxc8,Qc1,Qb8,Qc3,h6,b4,Ne7,Qc5,Bd3,Nc1,Bc4,Qxe7,Qb5,Qc5,Qa4,Bf1', 'Qd1,Qc8+,Kh7,Qxc4,dxc4', 'https://lichess.org/training/u3W0h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U3Y0L', 'Rapid', 'foxie38', 1727, 'tishe10x', 1724, 'e4,e5,Nf3,d6,d4,Qe7,dxe5,dxe5,Nc3,c6,Be3,b6,Qd2,h6,O-O-O,g5,Nxg5,hxg5,Bxg5,f6,Nd5,cxd5,Qxd5,Bb7', 'Bb5+,Nc6,Bxc6+,Bxc6,Qxc6+', 'https://lichess.org/training/U3Y0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u3Ywh', 'Rapid', 'VibeShawty', 906, 'Andrew_the_beast', 897, 'd4,d5,Nc3,Nc6,Nf3,Nf6,e3,e5,dxe5,Nh5,g3,f5,b3,d4,exd4,f4,gxf4,Nxf4,Bxf4,Bg4,Bg5,Qd7,Bg2,Bb4,Qd3,Bxf3,Bxf3,Nxd4,Qe4', 'Bxc3+', 'https://lichess.org/training/u3Ywh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U3ZHd', 'Rapid', 'Grebetz', 1658, 'Nicholes', 1630, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,Bxc6,Bxc6,Nc3,Nf6,d3,Be7,O-O,h6,Re1,O-O,d4,exd4,Nxd4,Bd7,Qf3,a6,Nf5,Bc6,Qg3,Nh5,Nxe7+,Qxe7,Qg4,Nf6,Qh4,Kh7,Bd2,Rae8,Bf4,g5', 'Bxg5,Ng8,Bxe7', 'https://lichess.org/training/U3ZHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u43oR', 'Rapid', 'maxg2222', 2256, 'NM TheLordOfTheBoard', 2288, 'c4,e5,g3,Nf6,Bg2,c6,d4,e4,Nc3,d5,cxd5,cxd5,Nh3,Bb4,O-O,O-O,Bg5,Bxc3,bxc3,Nbd7,f3,Qc7,Rc1,h6,Bf4,Qa5,c4,exf3,exf3,dxc4,Rxc4,Nb6,Rc5,Qxa2,Qc1,Nbd5,Bxh6,gxh6,Qxh6,Bxh3,Bxh3,b6,Qg5+,Kh8,Bf5,Rfe8,Qh6+,Kg8,Qg5+,Kh8,Qh6+,Kg8,Qg5+,Kf8,Qh6+,Ke7,Re1+,Kd6,Rxd5+,Kxd5,Be4+,Nxe4,fxe4+,Rxe4,Qg5+,Kc4,Rxe4', 'Qb1+,Kf2,Qxe4', 'https://lichess.org/training/u43oR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U46Lw', 'Blitz', 'Hasan_agena', 1600, 'JE1902', 1562, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,g3,Be6,Bg2,Nf6,O-O,O-O,c3,Nc6,Bg5,h6,Be3,Ne7,Qd2,b6,Qd3,c5,dxc5,Bxc5,Bxc5,bxc5,Nbd2,c4,Qd4,Nf5,Qe5,Qd6,Qxd6,Nxd6,Nd4,Rab8,Rab1,Rb6,Rfe1,Re8,Nxe6,Rxe6,Rxe6,fxe6,f4,Nfe4,Nxe4,Nxe4,Bxe4,dxe4,Kf2,Kf7,Ke3,Kf6,Kxe4,Rd6,Ke3,Rd3+,Ke2,Kf5,Rd1,Rxd1,Kxd1,Ke4,Ke2,g6,h4,h5,a3,a6,a4,a5,Kf2', 'Kd3,Kf3,Kc2,Ke4,Kxb2,Kd4,Kb3', 'https://lichess.org/training/U46Lw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u4727', 'Rapid', 'SanjoeThomas697042', 1682, 'Arjun_Bomma123', 1958, 'e4,e6,e5,f6,exf6,Qxf6,d3,Bc5,Nf3,e5,Bg5,Qb6,d4,exd4,Qe2+,Kf8,Be7+,Nxe7,Ng5,d3,Qf3+,Nf5,Qxf5+,Ke8,Qf7+,Kd8,Nh3,Rf8,Qxg7,Qf6,Qxh7,Qxf2+,Nxf2,Re8+,Ne4,Re7,Qg8+,Re8,Qg5+,Be7,Nf6,Nc6,Bxd3', 'Bxf6+,Kd1,Bxg5', 'https://lichess.org/training/u4727');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u47QK', 'Rapid', 'lingtalfi', 1967, 'Javi92', 1980, 'e4,c5,Nc3,d6,Bb5+,Bd7,Bxd7+,Nxd7,f4,Ngf6,Nf3,e6,d3,Be7,O-O,O-O,b3,a6,Qe1,b5,Ng5,h6,Nf3,Nh7,Ne2,Bf6,Rb1,b4,Be3,Rc8,Qg3,e5,f5,Ng5,Nxg5,Bxg5,Rf3,Bxe3+,Rxe3,Nf6,Qh4,Qa5,Rg3,Kh7,Rh3,Qxa2,Rf1,Qxc2,Ng3,Qxd3,Nh5,Qd4+,Kh1,Nxh5,Qxh5,Qd2,Rg3,c4,h3,c3,f6,g6,Rxg6,fxg6,Qg4,c2', 'Qd7+,Rf7,Qxf7+,Kh8,Qg7#', 'https://lichess.org/training/u47QK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u49fL', 'Rapid', 'Chesstantrum', 1638, 'i-dude', 1654, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nge7,Nxc6,Nxc6,Bb5,Ne7,e5,c6,Bc4,Ng6,Qh5,Be7,O-O,O-O,Bd3,d5,exd6,Bxd6,a3,Qc7,Bd2,Be6,Bb4,Bxb4,axb4,b5,Nd2,f5,Nf3,Nf4,Qh4,Nxd3', 'Ng5,h6,Nxe6', 'https://lichess.org/training/u49fL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4eYZ', 'Blitz', 'IM Dynamische_Schnecke', 2525, 'Sommarblixt', 2336, 'e4,g6,d4,Bg7,Nc3,c6,Be3,d5,Qd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Be6,Be2,Nd7,O-O,O-O,Bh6,b5,Bxg7,Kxg7,c3,Nb6,b3,Qd5,Rac1,a6,c4,Qd7,Qa5,Rfb8,Rfd1,Nc8,d5,cxd5,cxd5,Bxd5,Rc5,Nb6,Nd4,Qb7,Bf3,Bxf3,Nxf3,Rd8,Rdc1,Rac8,Rxc8,Rxc8,Rxc8,Nxc8,h3,Qb6,Qc3,Nd6,Nd2,h6,b4,g5,g3,Kg6,Qd3+,Kg7,Qc3,Nf5,Ne4,Nd4,Kf1,Kg6,Qc5,Qd8,Qc3,f5,Nc5,Ne6,Nxa6,Qd1+,Kg2,Qd5+,Kg1,Qxa2,Nc5,Qd5,Nd3,f6,Qc8,Nd4,Qe8+,Kg7,Qe7+,Qf7,Qd8,Nf3+,Kg2,Ne5,Nc5,h5,Qc8,h4,Qxf5,Ng6,Ne6+,Kh6,Nd4,Qb7+,Qf3,Qxf3+,Kxf3,hxg3,fxg3,Ne5+,Ke4,Kg6,Kd5,Nd3,Nc6,f5', 'Ne5+,Kf6,Nxd3', 'https://lichess.org/training/U4eYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u4FVp', 'Rapid', 'Serrano46a', 2150, 'laughton44', 1715, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,c4,Bd6,Bg3,c6,Nc3,O-O,Qb3,b6,Ne5,Nh5,f4,Nxg3,hxg3,Bxe5,dxe5,d4,O-O-O,c5,Be2,Nc6,Bf3,Na5,Qa4,Rb8,Nb5,a6,Nd6,Bg6,exd4,cxd4,Rxd4,Qc7,Kd2,Qc5,Ke3,Rfd8,b4', 'Nxc4+,Ke2,Qxd4', 'https://lichess.org/training/u4FVp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u4FW7', 'Rapid', 'Viktor1960', 2145, 'RandH', 2146, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,e3,O-O,Nf3,cxd4,exd4,d5,Bd2,Nc6,a3,Bxc3,bxc3,b6,Bg5,Ba6,Ne5,Na5,Ng4,Bxc4,Bxc4,Nxc4,Nxf6+,gxf6,Bh4,Kh8,O-O,Rg8,Qe2,Rg6,Rad1,Nxa3,Qf3,Nc4,Rfe1,a5,Rd3,a4,Kh1,a3,g4,a2,Ra1,Kg7,h3,Qe7,Qe2,Qa3,Bg3,Qb2,Qxb2,Nxb2,Rd2,Nc4,Rdxa2,Rxa2,Rxa2,h5,f3,hxg4,hxg4,f5,Rg2,fxg4,fxg4,Ne3,Be5+,Kh7', 'Rh2+,Rh6,Rxh6+,Kxh6,Bf4+,Kg7,Bxe3', 'https://lichess.org/training/u4FW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4g9K', 'Classical', 'oomh', 1610, 'GoLdEnFLAME', 1789, 'f4,c5,e4,e6,e5,Nh6,Nf3,Nc6,Bb5,Na5,O-O,c4,h3,Qb6+,d4,Qxb5,Nc3,Qc6,Kh1,Nf5,d5,Ng3+,Kg1,Qc5+,Rf2,exd5,Nxd5,Ne4,Be3,Nxf2,Kxf2,Qc6,e6,Kd8,Ne5,Qxe6,Qd2,b6,b4,cxb3,axb3,Bb7,Rxa5,bxa5', 'Qxa5+,Ke8,Nc7+', 'https://lichess.org/training/U4g9K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4gQa', 'Rapid', 'shall96', 1844, 'juancarsr', 1859, 'e4,c5,f4,d6,Nf3,Nf6,Nc3,e5,fxe5,dxe5,Bc4,Nc6,O-O,Bd6,d3,O-O,Bg5,Be7,Bb5,Bd7,Bxc6,Bxc6,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/U4gQa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4hsX', 'Rapid', 'DVRazor', 2262, 'Ox41414141', 2172, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nbd7,g4,b5,Bxf6,Bxf6,Bxb5,axb5,Ndxb5,Qa5,e5,dxe5,Qxa8,Qxa8,Nc7+,Ke7,Nxa8,Bb7,g5,Bxh1,Nc7,Bc6,gxf6+,gxf6,fxe5,Nxe5,a4,Rg8,a5,Rg2,b4,Nc4,a6,Bf3,a7,Nb6,Na4,Nxa4,Nd5+,Bxd5,Rxd5,Nb6', 'Rb5,Rg1+,Kb2', 'https://lichess.org/training/U4hsX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4IBF', 'Rapid', 'iggonor', 1952, 'grzesiek1234', 1834, 'd4,d5,c4,e6,c5,Nc6,a3,Qf6,e3,e5,Nf3,e4,Nfd2,Bd7,Be2,b6,b4,bxc5,bxc5,Nge7,f4,exf3,Nxf3,Nf5,O-O,Bxc5,dxc5,Qxa1,Qc2,O-O,Bb2,Qa2,Bd3,Nxe3', 'Bxh7+,Kh8,Bxg7+,Kxg7,Qxa2', 'https://lichess.org/training/U4IBF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4icp', 'Rapid', 'lancelot_of', 1769, 'dusanblind345', 1609, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,a6,a3,b5,Ba2,Nbd7,Ng5,e6,d4,cxd4,Qxd4,h6,Nf3,Be7,e5,dxe5,Nxe5,Bc5,Qf4,Nxe5,Qxe5,Bxf2+,Kxf2', 'Ng4+,Ke1,Nxe5', 'https://lichess.org/training/U4icp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u4jci', 'Rapid', 'raide64', 1844, 'cmxRenato', 1865, 'e4,e5,Nf3,d6,d4,Qe7,dxe5,dxe5,Bd3,c6,Nc3,Nf6,h3,g6,Bg5,Bg7,Qd2,O-O,O-O-O,Nbd7,Bh6,Re8,Bxg7,Kxg7,Kb1,Nf8,Rdg1,b5,g4,a5,g5,Nh5,Be2,a4,Qe3,Nf4,h4,b4,Nd1,Qe6,Nd2,Nxe2,Qxe2,b3,cxb3,axb3,Nxb3,Ba6,Qe3,Bc4,h5,Bxb3,axb3,Ra6,hxg6,fxg6,Rh2,Rea8,Rgh1,c5,Qxc5', 'Ra1+,Kc2,Rc8,Qxc8,Qxc8+', 'https://lichess.org/training/u4jci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u4K8f', 'Blitz', 'whythink', 1640, 'jibraat', 1621, 'e4,d5,exd5,Qxd5,Nc3,Qd8,b3,Nf6,Bb2,Nc6,Nf3,Bg4,Be2,e6,O-O,Be7,Re1,O-O,h3,Bh5,g4,Bg6,Nh4,Nd5,Nxg6,hxg6,Ne4,Bh4,Ng3,Nf4,Bb5,Nxh3+,Kh2,Nxf2,Qe2,Bxg3+,Kxg3,Nxg4,Qxg4,Qxd2,Bxc6,bxc6,Qd4,Qxd4,Bxd4,a6,Rh1,f6,Rae1,e5,Bc5,Rfd8,Rh2,Kf7,Rf2,Re8,Rd1,Rad8,Rfd2,Rxd2,Rxd2,Rc8,Rd7+,Kg8,Kg4,e4,Kf4,f5,Kg5,Re8,Kxg6,e3,Rxg7+,Kh8,Bd4,Re6+,Kf7,Rd6,Bb2,e2,Rg6+,Kh7,Rg1,Rd1,Rg2,e1=Q', 'Rh2+,Qh4,Rxh4#', 'https://lichess.org/training/u4K8f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4l4c', 'Classical', 'LucasGoalis1900', 1921, 'Muratyukse', 1921, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d5,e5,Bf5,Nc3,e6,Nf3,f6,Bb5,a6,Bxc6+,bxc6,O-O,Bb4,Qa4,Qb6,Be3,fxe5,Nxe5,Ne7,Rac1,O-O,Nd7,Qb7,Nxf8,Rxf8,a3,Bd6,b4,Qc7,h3,Rf6,b5,Rg6,bxa6,Bxh3,a7', 'Bh2+,Kh1,Bxg2#', 'https://lichess.org/training/U4l4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u4lFe', 'Rapid', 'SJMistery', 1706, 'mnahinkhan', 1681, 'e4,c5,f4,e6,Nf3,Nc6,c3,d6,d4,cxd4,Nxd4,a6,Qa4,Qc7,Bb5,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Be3,Nf6,Nd2,Be7,O-O,O-O,h3,c5,Rad1,Rfb8,Qc2,Ra7,Nc4,Rab7,Rf2,d5,exd5,exd5,Ne5,Ne4,Re2,Ng3,Red2,Bd6,Rxd5,Rxb2,Qa4', 'Ne2+,Kh2,Nxc3', 'https://lichess.org/training/u4lFe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4lnF', 'Blitz', 'Zubatka', 1908, 'dedenhermawan', 1932, 'd4,e6,c4,Nf6,Nc3,d5,Bg5,Be7,e3,h6,Bh4,O-O,Nf3,Nc6,a3,Ne4,Bxe7,Qxe7,Rc1,Nxc3,Rxc3,f5,Be2,f4,O-O,g5,b4,g4,Ne1,Qg5,Bxg4,e5,Bxc8,Raxc8,dxe5,Nxe5,exf4,Qxf4,Qxd5+,Kh7,Nd3,Nxd3,Rxd3,Rce8,Qxb7', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/U4lnF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4Mgl', 'Bullet', 'saccfisch', 1539, 'cweis', 1606, 'e4,e5,d4,exd4,Nf3,Nc6,Nxd4,Nf6,Nxc6,dxc6,Qxd8+,Kxd8,Bd3,Bc5,O-O,Be6,h3,Ke7,Bg5,h6,Bh4,g5,Bg3,Bd6,Nc3,Bxg3,fxg3,Nd7,Ne2,Ne5,Nd4,Nxd3,cxd3,Bd7,Nf5+,Bxf5,Rxf5,Rad8,Rd1,Rd6,Kf2,Rhd8,Ke3,c5,b3,b6,a4,a5,Rf3,f6,Rf5,Ke6,Rf3,Ke7,Rd2,Ke6,Ke2,c6,Kd1,Ke5,Kc2,Kd4,Rdf2,Rf8,Rf5,Ke3,R2f3+,Kd4,Rf2,Ke3,d4,cxd4', 'R5f3+,Kxe4,Re2+,Kd5,Rf5#', 'https://lichess.org/training/U4Mgl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u4ML1', 'Rapid', 'aa22bb', 2036, 'bartola', 1757, 'd4,c5,c3,e6,Nf3,d5,Bh6,Nxh6,e3,Nc6,Nbd2,Bd6,Bb5,O-O,O-O,Nf5,dxc5,Bxc5,e4,Nh4,Nb3,Bb6,Nxh4,Qxh4,exd5,exd5,Qxd5,Be6,Qd1,Rad8,Qe2,Bg4,Qc4,Qh5,Rae1,Qg6,Bxc6,bxc6,Kh1,h6,Nd4,Bxd4,cxd4,Rb8,b3,Rfc8,Qc5,Rb6,Re7,Qd3,Rfe1,Be6,h3,Ra6,R1xe6,fxe6,Qe5,Qh7', 'Qxe6+,Kh8,Qxc8+', 'https://lichess.org/training/u4ML1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4mrw', 'Rapid', 'tygvx', 1790, 'Pulver2d2', 1619, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,d6,Bc4,a6,Nc3,Nf6,Bg5,Be7,f4,b5,Bb3,Bb7,Qe2,e5,Nf5,O-O,g4,Nbd7,Nh6+,gxh6,Bxh6,Re8,g5,Bf8,Bxf8,Kxf8,gxf6,Nxf6,f5,Ke7,O-O-O,Qb6,Nd5+,Bxd5,Bxd5,Rac8,Kb1,Rc7,Rhg1,Kd8,Rg7,Rf8,Qd2,Qc5,Bb7,Rxb7,Qxd6+,Qxd6,Rxd6+,Ke7', 'Re6+,Kd8,Rxf6', 'https://lichess.org/training/U4mrw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u4mtW', 'Blitz', 'giorbinky', 2461, 'CM MasterTol', 2510, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Be2,d6,Nf3,c5,O-O,Nc6,d5,Na5,Be3,a6,Nd2,Bd7,f4,b5,e5,Ne8,e6,fxe6,dxe6,Bxe6,cxb5,axb5,Bxb5,Nc7,Be2,Rb8,Qc1,Nd5,Nxd5,Bxd5,b3,Bxa1,Qxa1,e6,Qc3,Nc6,Nc4,Bxc4,Bxc4,d5,Be2,d4,Qxc5,dxe3,Qxc6,Qd2,Qxe6+,Kg7,Qe5+,Kh6,Rf3,Qe1+,Bf1,Rf5,Rh3+,Rh5,Rxh5+,gxh5', 'Qf6#', 'https://lichess.org/training/u4mtW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4n3w', 'Blitz', 'kudapadu', 1678, 'Asshry', 1744, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Nd5,Nxd5,Qxd5,Be2,Nc6,c4,Qf5,O-O,e6,d5,exd5,cxd5,Nb8,Re1,Be7,Bb5+,c6,d6,cxb5,Rxe7+,Kf8,Qe2,Bd7,Re8+,Bxe8', 'Qe7+,Kg8,Qxe8#', 'https://lichess.org/training/U4n3w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4siI', 'Rapid', 'SudeepTodwal', 1664, 'SYMrNGz', 1648, 'e4,e6,d4,a6,d5,b5,a4,c6,d6,Bb7,e5,f6,f4,fxe5,fxe5,Qh4+,Ke2,Qe4+,Be3,Qxe5,Nc3,Bxd6', 'Nf3,Qf5,Qxd6', 'https://lichess.org/training/U4siI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u4TfC', 'Rapid', 'momo99', 1701, 'Tartak_Ower', 1789, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb4+,Nbd2,d6,d5,Na5', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/u4TfC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U4VKk', 'Rapid', 'TheSundanceKid12', 1813, 'higuysitsme', 1791, 'd4,e6,Bf4,d5,e3,Nf6,h3,a6,Nd2,Nc6,Ngf3,h6,c3,Ne4,Bd3,f5,O-O,Bd7,Ne5,Nxe5,dxe5,g5,Bh2,Bg7,Nb3,Qe7,f3,Nc5,Nxc5,Qxc5,Qe2,f4,Kh1,Bxe5,exf4,Bxf4,Bxf4,gxf4,Bg6+,Kd8,Qe5,Rg8,Bh5,Kc8,Qxf4,b6,Rac1,Kb7,c4,Raf8,Qd2,Rg5,Bg4,Qd6,cxd5,h5,f4,Rxd5,Bf3,Bc6,Bxd5,Bxd5,a3,Rg8,Rf2,Rg3,Rc3,Rg6,Rd3,c6,f5,exf5,Qf4', 'Bxg2+,Kh2,Qxd3', 'https://lichess.org/training/U4VKk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u51kk', 'Classical', 'babaaza', 1848, 'SpielerXY', 1788, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,a6,Qd2,b5,Be2,Qb6,Rd1,cxd4,Bxd4,Nxd4,Nxd4,Bc5,Bf3,O-O,Nb3,Be3,Qe2,Bxf4,g3,Bxe5,Nxd5,exd5,Bxd5,Bb7,Bxb7,Qxb7,O-O,Rae8,Qd3,Nf6,c3,Bc7,Nd4,Bb6,Rf4,Nd5,Rh4,g6,Qf3,Re3,Qg2,Rfe8,Qf2,Re2,Qf3,R8e3,Qf1,Rxb2,Re1,Rxc3', 'Re8+,Kg7,Rxh7+,Kxh7,Qh3+,Kg7,Qh8#', 'https://lichess.org/training/u51kk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U51t1', 'Blitz', 'IlNinjaDiBari', 1653, 'redtonal', 1749, 'Nf3,f5,d4,Nf6,Nc3,e6,e4,Be7,e5,Nd5,Nxd5,exd5,Bd3,O-O,O-O,c6,c3,d6,Bf4,dxe5,Bxe5,Nd7,Qc2,Nxe5,Nxe5,Bf6,f4,Bxe5,fxe5,Qg5,c4,Qe3+,Kh1,Qxd4,cxd5,Qxd5,Bxf5,Qxe5', 'Bxh7+,Kh8,Rxf8#', 'https://lichess.org/training/U51t1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U53XF', 'Rapid', 'Peter62', 1735, 'hotspring', 1768, 'e4,e6,e5,d6,exd6,Bxd6,Nf3,Bd7,d4,Nf6,Ng5,Nc6,Nxf7,Kxf7,c3,Rf8,Bd3,g6,Bh6,Qe7,Bxf8,Rxf8,O-O,e5,Re1,Kg7,Nd2,Qe6,Bc4,Qg4,Nf3,exd4,Be2,Qf4,cxd4,Re8,g3,Qf5,d5,Qxd5,Qxd5,Nxd5,Rad1,Bg4,Rxd5,Bxf3,Rd2,Bxe2,Rdxe2,Rxe2,Rxe2,Kf7,a3,b6,b4,a5,b5,Nd4,Ra2,Nxb5,a4,Nc3,Ra1,Ne2+,Kg2,Nc3,f4,Kf6,h4,h5,Kf3,Kf5,Kg2,Ne4,Kf3,c5,Rd1,c4', 'Rd5+,Ke6,Kxe4', 'https://lichess.org/training/U53XF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U57gW', 'Blitz', 'Ulthamar', 1674, 'Vijay24', 1700, 'e4,c5,Nf3,g6,d4,Bg7,dxc5,Qa5+,Nc3,Bxc3+,bxc3,Qxc3+,Bd2,Qxc5,Bd3,Nf6,O-O,O-O,Qe1,Nc6,e5,Nd5,Bh6,Re8,h4,d6,h5,Bg4,hxg6,hxg6,e6,Bxe6,Ng5,Nf6,Nxe6,fxe6,Qxe6+,Kh7', 'Qf7+,Kxh6,Qxg6#', 'https://lichess.org/training/U57gW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u5BT5', 'Blitz', 'quyem123a', 1681, 'RBotha', 1671, 'e4,e6,g3,d5,Bg2,dxe4,Bxe4,Nf6,Nc3,Bb4,Bg2,O-O,Nge2,c6,d3,Nbd7,O-O,Nd5,Ne4,N7f6,c4,Nxe4,Bxe4,Nf6,a3,Bc5,Be3,Be7,f4,Qc7,Rc1,Rd8,Nc3,b6,Qe2,Bb7,f5,exf5,Bxf5,Re8,Qd2,Rad8,Qc2,c5,Bf4,Bd6,Ne4,Nxe4,Bxe4,Bxe4,dxe4,Qc6,Qg2,Be7,Rf2,Qg6,Rcf1,Bf6,b4,Bd4,bxc5,bxc5,Kh1,Bxf2,Qxf2,Qxe4+,Kg1,Qc6,Bg5,Rd4', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/u5BT5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u5HAd', 'Classical', 'gopalBanik', 1607, 'SanjuBabaAtoZ', 1665, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a3,e6,Bc4,b5,Ba2,Be7,O-O,Bd7,h3,O-O,Re1,Nc6,Bg5,Qc7,Qd2,Rfe8,Nf3,Rad8,b4,Kh8,Rad1,Bc8,Qe3,Bb7,Ne2,Rf8,Ned4,Nxd4,Nxd4,Nxe4,Bxe7,Qxe7,f3,Nf6,Bxe6,fxe6,Qxe6,Qxe6,Nxe6,Rde8,Nxf8,Rxf8,Rxd6,h6,Kf2,Nd5,Rd1', 'Nc3,Re1,Ne4+,Rxe4,Bxe4', 'https://lichess.org/training/u5HAd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u5HlC', 'Rapid', 'anarquia', 1933, 'zerefudragnilu', 1983, 'b4,e6,Bb2,Nf6,a3,d5,e3,c5,bxc5,Bxc5,c4,Nc6,cxd5,Qxd5,Nc3,Qd8,Nf3,Qb6,Qc2,O-O,d4,Bd6,Bd3,h6,O-O,Bd7,Ra2,e5,dxe5,Nxe5,Nxe5,Bxe5,Ne4,Rac8,Nxf6+,Bxf6,Qe2,Be6,Bxf6,Bxa2,Bxg7,Kxg7,Qxa2,Rg8,Rb1,Qd6,Be2,Qg6,Rxb7,Rc1+,Bf1,Kh8', 'Qb2+,Kh7,Qxc1', 'https://lichess.org/training/u5HlC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u5mo4', 'Blitz', 'Kake64', 2044, 'FM HooCee', 2509, 'd4,c5,Nf3,Nf6,g3,g6,Bg2,Bg7,dxc5,Na6,O-O,Nxc5,c3,b6,Na3,O-O,Nc2,Bb7,Ncd4,d6,Be3,Ng4,Qd2,Nxe3,Qxe3,e6,Rfd1,a6,h4,Qc7,Rac1,Rac8,Nb3,Nd7,Nbd4,Rfd8,Nxe6,fxe6,Qxe6+,Kh8,Rxd6,Nf8,Rxd8,Rxd8,Qe3,Bxf3,Bxf3,a5,b3,Bf6,c4,Kg7,c5,b5,c6,b4,Qc5,Be5,Kg2,Bd6,Qd4+,Be5,Qc4,Re8,Rd1,h5,Rd5,Re7,Qc5,Nh7,Qxa5,Qxa5,Rxa5,Nf6,Rb5,Bd6,e3,Kf7,Be2,Rc7,Bf3,Ke6,Ra5,Ng8,Ra8,Ne7,Ra6,Ke5,Rb6,Ke6,Ra6,Nd5,Ra5,Ne7,Ra6,Kf6,Ra8,Ke6,Rh8,Nxc6,Rg8,Ne7,Ra8,Rd7,Ra6,Rc7,Rb6,Kd7,Ra6,Ke6,e4,Kd7,Rb6,Nc6,Ra6,Ne5,Be2,Ke7,f4,Rc2,Kf1,Ng4,Ra7+,Ke6', 'Bc4+,Rxc4,bxc4', 'https://lichess.org/training/u5mo4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u5mvF', 'Classical', 'TieKri', 1772, 'prometheus-1', 1698, 'f4,b6,Nf3,Bb7,e3,d6,b3,Nf6,Bb2,e6,Bd3,Be7,O-O,O-O,Nc3,Nbd7,Ne2,Ne4,Qe1,Bf6,c3,Ndc5,Bc2,d5,d3,Nd6,Ne5,Nd7,c4,Nf5,Ng3,Bh4,Rd1,Nxg3,hxg3,Be7,e4,Nxe5,Bxe5,Bd6,Bb2,c5,e5,Bc7,d4,f6,g4,fxe5,fxe5,Qg5,Qg3,Rxf1+,Rxf1,Rf8', 'Bxh7+,Kxh7,Rxf8', 'https://lichess.org/training/u5mvF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U5Olg', 'Classical', 'sereno', 1626, 'Monits', 1683, 'Nf3,d5,e3,Nc6,d4,Nf6,Bb5,Bd7,Bxc6,Bxc6,Ne5,Bb5,b3,e6,c4,dxc4,bxc4,Ba6,Nc3,Bb4', 'Qa4+,Nd7,Qxb4,Nxe5,dxe5', 'https://lichess.org/training/U5Olg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u5RzY', 'Blitz', 'Ernestozuluaga', 1959, 'itsnoteoin', 1843, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,O-O,Nc2,Bg5,a4,Be6,axb5,axb5,Rxa8,Qxa8,Bxb5,Ne7,Nxe7+,Bxe7,Bd3,f5,Qe2,f4,O-O,Qe8,f3,Qh5,Nb4,d5,exd5,Bc5+,Kh1,Rf6,dxe6', 'Qxh2+,Kxh2,Rh6#', 'https://lichess.org/training/u5RzY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U5s4S', 'Rapid', 'SinisterFootwear', 1948, 'asder99', 1940, 'e4,e5,Nf3,d6,d4,Nd7,Bc4,c6,dxe5,dxe5,O-O,Be7,Nc3,Ngf6,Qe2,O-O,Bg5,Qc7,Rad1,b5,Bb3,Nc5,Bh4,a5,a4,Nxb3,cxb3,b4,Nb1,Ba6,Qc2,Bxf1,Rxf1,Rfd8,Nbd2,Nh5,Bxe7,Qxe7,Nc4,f6,Nb6,Ra6', 'Qc4+,Qf7,Qxa6', 'https://lichess.org/training/U5s4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u5sV4', 'Rapid', 'AndreJr', 1636, 'ani33d', 1634, 'd4,c5,d5,d6,b3,Nf6,Bb2,b5,e3,a6,g3,Bb7,Bg2,e6,c4,bxc4,bxc4,Qa5+,Nc3,Qb4,Qc2,Qxc4,e4,exd5,O-O-O,d4,Na4,Qxa2,Nb6,Ra7,Ne2,g6,Nf4,Bh6,Rhe1,Ng4,Nd5,Nxf2,Qxf2,g5,Nf6+,Ke7,N4h5,g4+,Kc2,Qc4+,Kb1,Nc6,e5,Nxe5,Nxg4,Bxg2,Qf6+,Kd7,Qxh8,Nd3,Nhf6+,Kc6,Qe8+,Rd7,Rxd3,Qxd3+,Ka1,Qf5,Nxh6,Qxf6,Qc8+,Rc7,Qxa6+,Kd5,Qa8+,Kc4,Qxg2,Qxh6,Rc1+,Kb5,Qe2+,Kb6,Qc4,Qg6,Qb3+,Kc6,Bxd4', 'Ra7+,Kb2,Rb7', 'https://lichess.org/training/u5sV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U5x28', 'Classical', 'FemiYomi', 1786, 'lChessGoddessl', 1827, 'Nf3,d5,c4,d4,e3,Nc6,Nxd4,Nxd4,exd4,Qxd4,Nc3,c6,Be2,Nf6,O-O,e5,b3,Bd6,Bb2,O-O,Qc2,Qf4,Rae1,Bf5,Bd3', 'e4,g3,exd3', 'https://lichess.org/training/U5x28');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u63aK', 'Blitz', 'premium124', 2067, 'HMohamed710', 2076, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,a6,Qd2,h5,f3,Qc7,O-O-O,Nxd4,Qxd4,O-O,e5,Nh7,Nd5,Qxe5,Qxe5,Bxe5,Nxe7+,Kh8,Bxf7,Bxb2+,Kxb2,Rxf7,Nxg6+,Kg7,Ne5,Re7,Bd4,Kg8,g4,d6,Ng6,Re2,gxh5,Bf5,Rhg1,Rxc2+,Ka3,Kf7,Nf4,b5,Nd5,Re8,Ne3,Rxh2,Nxf5,Ree2,Rg7+,Ke6,Rxh7,a5,Re7+,Kxf5,Rf7+,Kg5,Rg1+,Kh6,Bg7+,Kxh5,Bb2', 'Re3+,Bc3,Rxc3#', 'https://lichess.org/training/u63aK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U63bq', 'Rapid', 'ClairLune', 1600, 'tareq6000', 1603, 'c4,e5,Nc3,Nf6,g3,g6,Bg2,Bg7,d3,O-O,b4,d6,Bd2,Nc6,Nf3,Bg4,Rb1,a6,a4,Nh5,Be3,Rb8,Nd2,f5,f3,f4,fxg4,fxe3,gxh5,exd2+,Qxd2,e4,Nxe4,Nd4,e3,Nf5,Rf1,c6,hxg6,hxg6,d4,d5,cxd5,cxd5,Nc5,Re8,Rb3,Nxd4,Rd3,Qg5,Kd1,Qg4+,Kc1,Ne2+,Kc2,Rbc8,Bf3,Rxc5+,Kd1,Nc3+,Rxc3,Qxb4,Bxd5+,Kh7,Rxc5,Qxc5,Ke2,Rd8,Bg8+,Kxg8,Qxd8+,Kh7,Rf7', 'Qc4+,Ke1,Qxf7', 'https://lichess.org/training/U63bq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u64Ib', 'Blitz', 'Iam_newbie', 1652, 'Thorben_W', 1521, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,Ng5,Ne5,Nxf7,Nxf7,Bxf7+,Kxf7,Qh5+,g6,Qxc5,Qf6,e5,Qc6,Qxd4,Qxg2,Rf1,d6,e6+,Bxe6,Qxh8,Bh3,Qxh7+,Kf8,Bh6+,Nxh6,Qxh6+,Ke7,Qe3+,Kd7,Qd3,Re8+,Kd2,Qg5+,f4', 'Qg2+,Kc1,Qxf1+,Qxf1,Bxf1', 'https://lichess.org/training/u64Ib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u67It', 'Rapid', 'GLang', 1670, 'keneorjia', 1650, 'e3,c5,Nf3,d6,Bc4,Nf6,Nc3,e6,h4,Be7,h5,h6,d3,a6,Bd2,b5,Nxb5,axb5,Bxb5+,Bd7,Bc4,d5,Bb3,Nc6,c3,Rb8,O-O,Na5,Ne5,Nxb3,axb3,O-O,f4,Bc8,g4,Bb7,g5,Nd7,Ng4,hxg5,h6,gxf4,Rxf4,Bg5,Rf2,gxh6,e4,dxe4,Bxg5,hxg5,Nh6+,Kg7,Qh5,f6,Rh2,Qe8', 'Nf5+,exf5,Qh7#', 'https://lichess.org/training/u67It');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U69CV', 'Rapid', 'king66gio', 1748, 'kme70', 1748, 'e4,c5,Nf3,d6,Nc3,Nd7,Be2,e6,O-O,Ngf6,d4,cxd4,Nxd4,Be7,Ndb5,Nc5,Bf3,a6,Nd4,O-O,Bg5,h6,Bh4,Nh7,Bxe7,Qxe7,Re1,Ng5,Qe2,Qf6,Rad1,Rd8,Rd2,e5,Nf5,Bxf5,exf5,Qxf5,Nd5,Nxf3+,gxf3,Qg5+,Kh1,Ne6,Rg1,Qh5', 'Nf6+,Kf8,Nxh5', 'https://lichess.org/training/U69CV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u6ac7', 'Blitz', 'eduardossvieira', 2014, 'JR_Beltran1229', 1984, 'e4,g6,d4,Bg7,f4,d6,Nf3,Nd7,Bd3,e5,O-O,exd4,c3,dxc3,Nxc3,Ne7,h3,c5,Kh1,a6,a4,b6,Qe2,Bb7,Bd2,Qc7,Rae1,O-O,e5,dxe5,Nxe5,Nxe5,fxe5,Nc6,Bf4,Nd4,Qf2,Qd7,Ne4,Bxe4,Bxe4,Rad8,Bg5,Rc8,Bf6,Qxa4,Ra1,Qb5,Bb7,Rce8,Bxa6,Qd7,Rad1,Bxf6,exf6,Re6,Bc4,Rd6,Qh4,Nf5,Rxd6,Qxd6,Rxf5,gxf5', 'Qg5+,Kh8,Qg7#', 'https://lichess.org/training/u6ac7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6bgo', 'Blitz', 'pd159', 2219, 'IM ImIsmaelKarim', 2478, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,d4,Be7,d5,Nc5,dxc6,Nxa4,cxb7,Bxb7,Nxe5,d6,Nf3,O-O,b3,Bf6,Nd4,c5,bxa4,Bxd4,c3,Be5,Nd2,Bxc3,Rb1,Bc6,Bb2,Bxb2,Rxb2,d5,Qc2,c4,Rd1,Qf6,Nf3,Rfe8,h3,Rad8,Rb6,Qd6,a5,Qc5,Nd4,Bd7,Qc3,Bc8,Rc6,Qe7,Rd2,h6,Re2,Qd7,Rb2,Re7,Rb8,Rde8,Kh2,Bb7,Rxe8+,Qxe8,Rd6,Qb8', 'Nf5,Qxd6+,Nxd6', 'https://lichess.org/training/U6bgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6BSP', 'Rapid', 'Hans_Schweinehirt', 1793, 'WitNik', 1891, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,h6,O-O,Be7,fxe5,dxe5,Bxf7+,Kxf7,Nxe5+,Ke8', 'Qh5+,g6,Qxg6#', 'https://lichess.org/training/U6BSP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6CEe', 'Rapid', 'vlad48', 2097, 'Tigre41', 2099, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Be3,Nf6,f3,d5,e5,Nfd7,f4,Nc6,c3,Qb6,Qd2,Bc5,b4,Bxd4,Bxd4,Nxd4,cxd4,Nb8,Na3,Nc6,Nc2,O-O,Be2,f6,exf6,Rxf6,O-O,Bd7,Kh1,Raf8,g3,Be8,a3,Bg6,Bd3,Rc8,Bxg6,hxg6,Rfd1,Ne7,Ne3,Nf5,Ng4,Rf7,Ne5,Rfc7,Nxg6,Rc2,Qe1,Kh7,Ne5,Nxd4,Qg1,Re2,Qxd4', 'Re1+,Rxe1,Qxd4', 'https://lichess.org/training/U6CEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6EDl', 'Rapid', 'wuassa', 1760, 'vic14', 1773, 'Nf3,d6,d4,Nf6,g3,Bg4,Bg2,e6,O-O,Be7,c4,d5,Ne5,Bh5,Bf4,Nbd7,Qb3,Bxe2,Re1,dxc4,Nxc4,Bxc4,Qxc4,O-O,Bxc7,Qe8,Bxb7,Nb6,Qc6,Bb4,Qxe8,Rfxe8,Re3,Nc4,Rb3,a5,Bxa8,Rxa8,Nc3,Nd2,Rxb4,axb4,Ne2,Nfe4,Rc1,h5,Bf4,Rxa2,Bxd2,Nxd2,Rc2,Nf3+,Kg2,b3', 'Rc8+,Kh7,Kxf3', 'https://lichess.org/training/U6EDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u6FTv', 'Rapid', 'salinaef', 2215, 'Bombist', 2304, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,cxd6,Nc3,g6,Nf3,Bg7,b3,O-O,Bb2,Bg4,Be2,Nc6,d5,Bxf3,Bxf3,Nd4,O-O,Nd7,Re1,Ne5,Be4,Nd7,Na4,b5,Bxd4,bxa4,Bxg7,Kxg7,Bc2,a5,Re3,Nc5,bxa4,Rb8,h4,Rb4,Bb3,e5,dxe6,fxe6,h5,Rb7,hxg6,hxg6,Qd4+,Qf6,Qxf6+,Rxf6,Rd1,e5,f3,Kf7,Rd5,Ke7,Rexe5+,dxe5,Rxc5,Re6,Rxa5,e4,c5,e3,Bxe6', 'Rb1+,Kh2,e2', 'https://lichess.org/training/u6FTv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6IMM', 'Rapid', 'pab-l0', 1676, 'Colin7777777', 1720, 'd4,e6,Bg5,Qxg5,Nf3,Qd8,Nc3,Bb4,Qd3,Nc6,Ne5,Bxc3+,Qxc3,Nf6,e3,O-O,h3,Nxe5,dxe5,Ne8,Bd3,d6,O-O-O,dxe5', 'Bxh7+,Kxh7,Rxd8', 'https://lichess.org/training/U6IMM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6J07', 'Rapid', 'jonescapello', 1808, 'mani_kora', 1733, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Nd4,Nxd4,exd4,Nd2,c6,Ba4,Be7,Nf3,Qa5+,Bd2,Qxa4,O-O,O-O,Re1,d6,Bg5,c5,Qd2,Bg4,Nh4,Qd7,Qf4,Nh5,Qd2,Bxg5,Qxg5,f6,Qd2,Qe7,Nf5,Bxf5,exf5,Qf7,g4,h6,gxh5,Qxh5,Qf4,g6,fxg6,Qxg6+,Kh1,Qh5,Rg1+,Kh8,Qxd6', 'Qf3+,Rg2,Rg8,Qg3,Rxg3', 'https://lichess.org/training/U6J07');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u6J4O', 'Rapid', 'MertesAlexanderGM', 1937, 'ozcan1907', 1833, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Qf6,b4,Bb6,a4,a6,a5,Ba7,d3,h6,h4,d6,Be3,Bxe3,fxe3,Bg4,Nbd2,Nge7,Rf1,O-O,Qb3,Kh8,O-O-O,Be6,Nd4,Nxd4,exd4,Bxc4,Qxc4,Qxh4,Nf3,Qf4+,Kb2,exd4,Nxd4,Qg4,Qxc7,Qxg2+,Kb3,Ng6,Qxd6,Rad8,Qc7,Rc8,Qxb7,Ne5,Rf5,Qg4,Rd2,Qg3,Qxa6,g6,Qf6+,Kh7,Qxe5,Qe1,Rff2,Qb1+,Rb2,Qxd3,Rfc2,Ra8,Qd5,Ra6,Nb5,Qf3,Rf2,Qg4,Rxf7+,Rxf7,Qxf7+,Kh8,Qf8+,Kh7,Qe7+,Kg8,Rf2,Qd1+,Kc4', 'Rc6+,Qc5,Rxc5+,bxc5,Qa4+,Kd5,Qxb5', 'https://lichess.org/training/u6J4O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u6l18', 'Rapid', 'cherep766', 1912, 'Gerild', 1918, 'c4,e5,d4,exd4,Qxd4,Nc6,Qe3+,Qe7,a3,Nf6,Nf3,Qxe3,Bxe3,d5,cxd5,Nxd5,Bc1,Bc5,e3,O-O,Bb5,Bd7,Bxc6,Bxc6,Ne5,Bb5,b4,Bd6,Nf3,Rfe8,Nd4,Bd3,Bb2,c5,bxc5,Bxc5,Nd2,Rac8,N2b3,Bxd4,Bxd4,Rc2,Nc5,Re2+,Kd1,Rxf2,Nxd3,Rxg2,Ne1,Rg4,Rb1,b6,Rb5', 'Rxd4+,exd4,Nc3+,Kd2,Nxb5', 'https://lichess.org/training/u6l18');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6oJj', 'Rapid', 'capricornwon', 1652, 'fayca', 1701, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Bf4,Nc6,Bd3,e6,O-O,Nxd4,c3,Nxf3+,gxf3,Bh5,Nd2,Bd6,Bg3,Nh6,Bxd6,Qxd6,c4,Nf5,cxd5,Nh4', 'Qa4+,Kf8,Qxh4', 'https://lichess.org/training/U6oJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u6PuC', 'Rapid', 'Angelo1026', 1949, 'Vassj', 1993, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bb4,Nxc6,Bxc3+,bxc3,bxc6,Bb2,Ne7,Bd3,O-O,c4,Ng6,e5,d5,exd6,Qxd6,h4', 'Qb4+,Qd2,Qxb2', 'https://lichess.org/training/u6PuC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u6pVX', 'Rapid', 'Andy70', 1877, 'JavanF', 1813, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,d6,Qe2,Nf6,O-O,Be7,Rd1,O-O,Bf4,Nh5,Bc1,Nf6,e5,Ne8,exd6,Bxd6,Bf4,Qe7,Bg3,Bxg3,hxg3,Nf6,Rd2,a6,Rad1,b5,Bb3,Na5,Bc2,Nc4,Rd4,Qb4,Rxc4,bxc4,Rd4,Bb7,Rxc4,Qe7,Rh4,g6,Qe5,Nd7,Qf4,f5,Ng5,Rad8,Nxh7,Rf7,Ng5,Rg7,Qe5,Qxg5,Qxe6+,Rf7,Bb3,Rf8,Ne2,Kg7,Nf4,Qf6,Qe3,Qxb2,Ne6+,Kf6,Nxf8,Rxf8,Qe6+,Kg5,Qe3+,Kf6,Rd4,Qb1+', 'Rd1,Qxd1+,Bxd1', 'https://lichess.org/training/u6pVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6QjD', 'Classical', 'hanilberna', 1750, 'anup1967', 1826, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,Qf6,O-O,Nxd4,Nc3,Nxf3+,Qxf3,Qxf3,gxf3,Bd6,Kh1,g5,Ne2,b6,Ng3,Nf6,Nf5,Nh5,Nxd6+,cxd6,Be3,Nf4,Bxf4,exf4,Bd5,Rb8,Rg1,Bb7,Rad1,Bc6,Bxc6,dxc6,Rxd6,c5,Rgd1,Kf8,Rd7,Ra8,Rc7,Kg7,Rdd7,Rhf8,e5,Rae8,Rxa7,Rxe5,Rab7,Re2,Kg2,Rxc2,Rxb6,c4,a4,c3,bxc3,Rxc3,a5,Ra3,a6,Ra8,Rbb7,R3xa6,Rxf7+,Kg6,Kh3,Kh5,Rf5,Kg6,Kg4', 'h5+,Kh3,Kxf5', 'https://lichess.org/training/U6QjD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6qnl', 'Rapid', 'sevokalanj', 1751, 'Marvol', 1773, 'g3,e5,Bg2,d5,d3,Nf6,Bg5,Be7,f4,h6,Bxf6,Bxf6,fxe5,Bxe5,c3,O-O,Nf3,Nc6,d4,Bf6,Nbd2,Bg4,a4,Re8,O-O,Qd6,Re1,Re7,Qc2,Rae8,e4,dxe4,Nxe4,Qd5,Nxf6+,gxf6,Rxe7,Rxe7,Ne5,Qe6,Nxc6,Qe3+,Kf1', 'Be2+,Qxe2,Qxe2+', 'https://lichess.org/training/U6qnl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6qtR', 'Rapid', 'CrunchyPebble', 1899, 'MohamedZakaria60', 2017, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,Ng5,h6,Qh5,Ng6,Bb5+,c6', 'dxc6,bxc6,Bxc6+', 'https://lichess.org/training/U6qtR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u6QYp', 'Classical', 'Matvey2012', 1708, 'LPZ72', 1874, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,d4,cxd4,Nxd4,g6,Nc3,Bg7,O-O,Ngf6,Re1,O-O,Nd5,e6,Nxf6+,Qxf6,Nb5,d5,exd5,exd5,Qxd5,Qc6,Qxc6,bxc6,Nd6,Nb6,c3,c5,Be3,Nc8,Bxc5,Nxd6,Bxd6,Rfd8,Be5,Rd2,Bxg7,Kxg7,Rab1,Rb8,h3,Rbxb2,Rxb2,Rxb2,Rc1,Rxa2,c4,Ra6,c5,Rc6,Kf1,Kf6,Ke2,Ke5,Kd3,Kd5,Ra1,a6,Ra5,f5,f4,h6,g3,g5,fxg5,hxg5,h4,gxh4,gxh4,Ke5,Ke3,f4+,Kf3,Kf5,h5,Kg5,h6,Kxh6,Kxf4,Kg6,Ke5,Kf7,Kd5,Rh6,c6,Rh5+', 'Kd6,Rxa5,c7,Ra1,c8=Q,Rd1+,Ke5', 'https://lichess.org/training/u6QYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6rHd', 'Rapid', 'chesseric', 2004, 'Homem-Conan', 1747, 'c4,e5,g3,Nf6,Bg2,c6,d4,e4,Nc3,Bb4,Qb3,Bxc3+,Qxc3,d5,Nh3,h6,O-O,g5,cxd5,cxd5,f3,Bf5,Nf2,Nc6,Be3,Rc8,fxe4,Bg6,e5,Ne4,Nxe4,dxe4,Rad1,O-O,Qd2,Ne7,h4,Nd5,hxg5,Nxe3,Qxe3,hxg5,Bxe4,Bxe4,Qxe4,Rc6,d5,Rh6,Qg4,Qb6+,Kg2,Qxb2,Rf5,Rg6,Rxg5,Qc2,Rxg6+,fxg6,d6,Kg7,Rh1', 'Qc6+,Qf3,Rxf3', 'https://lichess.org/training/U6rHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6U56', 'Blitz', 'FM QueenDrop', 2382, 'donskoy52', 2265, 'e4,e6,d4,d5,Nc3,Bb4,e5,b6,h4,Ba6,Bxa6,Nxa6,Qd3,Qc8,h5,h6,Bd2,Ne7,g4,c5,a3,Bxc3,bxc3,cxd4,cxd4,Qc4,Qxc4,dxc4,Ne2,Nd5,c3,Kd7,Ng3,f6,exf6,gxf6,O-O-O,Nac7,Rde1,Rag8,Rh4,Ne8,Ne2,Nd6,Nf4,Re8,Ng6,Rh7,Rh3,a5,Kc2,b5,Rb1,Rc8,f4,b4,axb4,axb4,cxb4,c3,Bxc3,Nb5,Rb3,Ndxc3,Rhxc3,Nxc3,Rxc3,Rxc3+,Kxc3,Kd6,Nh4,Kd5,f5,exf5,Nxf5,Ke4,b5,Kf4,Nd6,Kxg4,b6,Kxh5', 'b7,Rh8,Nc8', 'https://lichess.org/training/U6U56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6ves', 'Rapid', 'asens', 1870, 'narendra955', 1880, 'e4,e6,Nf3,d6,d4,a6,c4,b6,Bd3,Bb7,O-O,Nd7,d5,e5,Nc3,h6,b4,g5,h3,Be7,Nh2,h5,a4,g4,hxg4,Bg5,gxh5,Bxc1,Rxc1,Qh4,Be2,Ngf6,g3,Qh3,Ng4,Nxh5,Bf3,Nxg3,fxg3,Qxg3+,Bg2,Rg8,Qf3,Qxg4,Qxf7+,Kd8,Rc2,Rf8,Qh7,Rxf1+,Kxf1,Qf4+,Rf2,Qc1+,Ke2,Qxc3,Qg8+,Nf8,Rxf8+,Kd7', 'Qf7#', 'https://lichess.org/training/U6ves');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U6VUo', 'Rapid', 'Jan90', 1788, 'Fruttosamina', 1965, 'e4,c6,f4,d5,e5,Bf5,Nf3,e6,c3,Qb6,d4,Nd7,Bd3,Nh6,O-O,c5,h3,cxd4,cxd4,Be7,g4,Bxd3,Qxd3,Rc8,Nc3,f6,f5,fxe5,fxe6,Qxe6,Bxh6,e4,Qe3,gxh6,Nh2,Ne5,dxe5', 'Bc5,Qxc5,Rxc5', 'https://lichess.org/training/U6VUo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u6yaN', 'Rapid', 'serkanayzit_Tofas', 1939, 'chessvald', 1851, 'e4,e5,Nf3,Nc6,Be2,Nf6,d3,Bc5,Nc3,d6,Bg5,Be6,Nd2,h6,Bh4,g5,Bg3,h5,h3,h4,Bh2,Qd7,a3,Bxh3,gxh3,Qxh3,Nd5,Nxd5,exd5,Qg2,Rf1,Nd4,Bg1,h3,c3,Nxe2,Qxe2,h2,Bxh2,Rxh2,O-O-O,O-O-O,Ne4,g4,Nxc5,dxc5,Qxe5,Rxd5,Qe8+,Rd8,Qxf7,g3,Rg1,Qxf2,Qe6+,Kb8,Qb3,g2,Qc2,Qxc2+,Kxc2,Rf8,Rd2,Rg8,d4,cxd4,cxd4,c6,Kd3,Kc7,Ke3,Kd6,Kf3,Rf8+,Kg3,Rfh8,Rgxg2,Rxg2+,Kxg2,Rg8+,Kf1,Re8,Kf2,Kd5,Kf3,Re4,Kf2,Rxd4,Rxd4+,Kxd4,Ke2,Kc4,Kd2,Kb3,Kc1,Ka2,Kc2,c5,Kc3,b5,b4,Kxa3,bxc5,b4+,Kc2,b3+', 'Kb1,Kb4,c6,Kc5,c7', 'https://lichess.org/training/u6yaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U72wj', 'Rapid', 'Patchiny456', 2455, 'Radio64', 2286, 'd4,f5,e4,fxe4,Nc3,Nf6,Bg5,Nc6,Bxf6,exf6,d5,Ne5,Nxe4,f5,Nc3,Bb4,Qd4,Qe7,O-O-O,c5,dxc6,dxc6,f3,Bd7,Nh3,Bc5,Qa4,O-O-O,Re1,Qd6,Qf4,Rhe8,Rd1,Qc7,Na4,Bd6,Qd4,Be6,Qxa7,Bxa2', 'Nb6+,Qxb6,Qxb6', 'https://lichess.org/training/U72wj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u74Jv', 'Rapid', 'bruno1986', 2025, 'Kriko10', 2058, 'd4,Nf6,c4,c6,Nc3,d5,cxd5,cxd5,Bg5,Nc6,e3,a6,Bd3,Bg4,Nge2,e6,O-O,Bd6,Qb3,Na5,Qc2,Bh5,f4,Be7,f5,Bxe2,Qxe2,O-O,Qc2,h6,Bh4,Ng4,Bxe7,Qxe7,Qe2,exf5,Nxd5,Qd6,Nf4,Rfe8,Rf3,Nc6,Qc2,Nxe3,Qc5,Rad8,Qxd6,Rxd6,Re1,Rxd4,Bxf5,Ne5', 'Rfxe3,Rxf4,Rxe5,Rxe5,Rxe5', 'https://lichess.org/training/u74Jv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U76Pv', 'Rapid', 'komarnik', 1799, 'MrScribbler', 1832, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Nxe4,Nxe4,dxe4,Qh5,Qxd4,c3,Bb4,Ne2,Qb6,Be5,Rf8,O-O-O,Bd6,Bg7,Nc6,Qxh6,Bd7,Bxf8,Bxf8,Qxg5,Qxf2,Qg3,Qb6,Qg5,Ne7,Ng3,O-O-O,Nxe4,Nf5,Be2', 'Bh6,Qxh6,Nxh6', 'https://lichess.org/training/U76Pv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u77o1', 'Classical', 'Blacknight_1', 1630, 'aaron-chess', 1720, 'd4,Nf6,c4,g6,e3,Bg7,Nf3,O-O,Be2,e6,Nc3,d5,O-O,Nc6,b3,a5,c5,Re8,Bb5,Bd7,Ne5,Nxe5,dxe5,Bxb5,Nxb5,Ne4,Qd4,Qd7,a4,c6,Nd6,Nxd6,cxd6,Qc8,e4,c5,Qb2,d4,Bf4,f6,exf6,Bxf6,Rac1,e5,Bh6,Qc6,b4,axb4,Qb3+,Kh8,Qf7,Qxd6,Qxb7,Reb8,Qf7,Rxa4,Rxc5,Rba8,Rd5,Qe7', 'Bg7+,Bxg7,Qxe7', 'https://lichess.org/training/u77o1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u783H', 'Rapid', 'JSopinka', 2134, 'fairooz_fz', 2103, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,c4,Nf6,f3,O-O,Nc3,a6,Qd2,d6,Be2,Bd7,Nxc6,Bxc6,Bh6,e5,Bxg7,Kxg7,h4,Nh5,g4,Nf4,Kf2,Rc8,h5,b5,hxg6,fxg6,Nd5,Bxd5,cxd5,Qg5,Qe3,Rc2', 'Qa7+,Rf7,Rxh7+,Kxh7,Qxf7+', 'https://lichess.org/training/u783H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u78Eu', 'Rapid', 'azadsalehi', 1983, 'bab64', 2041, 'c4,Nf6,Nc3,d5,e3,e5,Nf3,Nc6,Be2,d4,exd4,exd4,Nb5,d3,Bxd3,a6,Qe2+,Be7,Nc3,O-O,O-O,Bg4,Be4,Nd4,Qe3,Bxf3,Bxf3,Bc5,Qd3,Re8,Nd5,c6,Nxf6+,Qxf6,b4,Ba7,Bb2', 'Nxf3+,Qxf3,Qxb2', 'https://lichess.org/training/u78Eu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u78T4', 'Rapid', 'Mc_Quirlex_Quinones', 1734, 'ErnesTal', 2043, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,a4,Bb4,Bd2,Nf6,Bd3,Nc6,Nxc6,dxc6,O-O,O-O,Qf3,e5,h3,Be6,Rad1,Bc5,Bg5,Be7,Ne2,Rad8,Ng3,h6,Bxf6,Bxf6,Nh5,Be7,Qg3,g6,f4,Kh8,f5,gxh5,fxe6,Rg8,Qe3,Bg5,Qe2,fxe6,Qxh5,Qg7,Kh1,Bf4,g4,Rdf8,Bc4,Qe7,b4,Rf6,b5,Rg5,Qh4,axb5,axb5,Kg7,bxc6,bxc6,Rd3,Rf7,Qe1,h5,Rg1,hxg4,Rxg4,Rxg4,hxg4,Kg6,Rh3,Qg5,Qh4,Qxh4,Rxh4,Kg5,Rh3,Kxg4', 'Bxe6+,Kg5,Bxf7', 'https://lichess.org/training/u78T4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U7a9j', 'Rapid', 'Vahan7', 1680, 'cocotte', 1654, 'e4,c5,f4,d6,Nf3,e6,Bc4,Nc6,Bb5,Qc7,O-O,a6,Bxc6+,Qxc6,d3,Nf6,c4,Be7,Nc3,O-O,h3,d5,b3,dxe4,Ne5,Qd6,Nxe4', 'Qd4+,Be3,Qxe3+', 'https://lichess.org/training/U7a9j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7aI3', 'Rapid', 'john5000', 1870, 'yakachoisir', 1856, 'e4,e5,Bc4,Nc6,Nf3,Nf6,O-O,Be7,d3,O-O,Nc3,d6,Bg5,h6,Bh4,Na5,Bb3,c6,Nd2,Nxb3,axb3,Nh7,Bxe7,Qxe7,f4,exf4,Rxf4,f5,exf5,Qe3+,Rf2,Rxf5,Qf1,Qg5,Rxf5,Bxf5,Nde4,Bxe4,Nxe4,Qg6,Qf2,Rf8,Qxa7,d5,Ng3,Qf6,Rf1,Qxb2,Rxf8+,Nxf8,Qxb7,Qc1+,Nf1,Qxc2,h3,Qxd3,Qxc6,Qxb3,Qd6,Qd1,Kf2,d4,Ng3,Qd2+,Kf3,Qe3+,Kg4,h5+,Nxh5,Qe4+,Kg3,d3,Nf4,Qe3+,Kg4,d2,Qd5+,Kh8,Qh5+,Kg8,Qd5+,Kh8,Qh5+,Nh7', 'Ng6+,Kg8,Qd5+,Qe6+,Qxe6#', 'https://lichess.org/training/u7aI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U7aqd', 'Blitz', 'CM d-pawn', 2467, 'NM fourqueens13', 2513, 'e4,c5,Nf3,Nc6,b4,Nxb4,d4,cxd4,Nxd4,d6,Bc4,Nf6,O-O,Nxe4,Qe1,d5,Bb5+,Bd7,Qxb4,e5,Qe1,exd4,Bxd7+,Kxd7,Bb2,Bc5,Qd1,Qb6,Ba3,f5,Bxc5,Qxc5,Nd2,Nxd2,Qxd2,Rae8,Rad1,Re4,f3,d3+,Kh1,Re2,Qxd3,Rxc2,Qxf5+,Kc7,Rxd5,Qc4,Qe5+,Kc8,Rfd1,b6,h3,Qe2,Qxg7,Re8,Rd7,Re7,Rxe7,Qxd1+,Kh2,Qd6+,Qe5,Qxe5+,Rxe5,Rxa2,f4,Kd7,f5,Kd6,Re6+,Kd7,Kg3,b5,Rh6,b4,f6,Ke6,Rxh7,Kxf6,Rb7,a5,h4,Ra3+,Kg4,b3,Rb6+,Ke5,h5,a4,h6,Ra1,h7,Rh1,Rb5+,Kd4', 'Rh5,Rxh5,Kxh5', 'https://lichess.org/training/U7aqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7aw2', 'Classical', 'wordlock', 1696, 'robotrock', 1781, 'e4,b6,Qf3,Bb7,Bc4,e6,Nc3,f5,Bd3,Nf6,Nge2,Bc5,b3,O-O,Bb2,fxe4,Nxe4,Nxe4,Qg4,Nf6,Qh3,h6,O-O-O,Qe7,Kb1,e5,Qf5,e4,Bc4+,d5,Bxf6,Rxf6,Bxd5+,Bxd5', 'Qxd5+,Kh7,Qxa8', 'https://lichess.org/training/u7aw2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7aXJ', 'Rapid', 'tagalogjhuncarlo', 1711, 'Waltz20', 1722, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,Bg4,Bf4,Nf6,Be2,e6,Ne5,Bxe2,Qd2,Bh5,Nxc6,bxc6,Na4,h6,Nc5,Bxc5,dxc5,O-O,Bd6,Re8,O-O,Ne4,Qe3,Nxd6,cxd6,Qxd6,f3,Rad8,g4,Bg6,h4,Bxc2,Rac1,Bh7,Qxa7,d4,Qb6,Rc8,a4,d3,a5,d2,Rcd1,Qg3+,Kh1,Qxh4+,Kg1,Qg3+,Kh1,Be4,fxe4,Qxg4,Rxd2,Qxe4+,Rg2,Rb8,Qc7,Rxb2', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/u7aXJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7BT6', 'Rapid', 'skrybz', 1733, 'Oguz2929', 1723, 'd4,d5,Bf4,Nf6,e3,Nc6,c3,e6,Nd2,Bd6,Bg3,Bxg3,hxg3,Qd6,Bd3,Bd7,Ngf3,e5,Nxe5,Nxe5,dxe5,Qxe5,Nf3,Qd6,Qc2,g6,Kd1,Ne4,Ke2,Bg4,Rad1,O-O-O,Kf1,Bxf3,gxf3,Ng5,f4,Ne6,Be2,Qc5,b4,Qb6,a4,d4,exd4,Qc6,Rg1,h5,Rd3,h4,Bf3,Qc4,Qe2,hxg3,fxg3,c5,Qe4,Rd7,Be2,f5,Qe5,Rh2,Re3,Qb3,Bb5', 'Qd1+,Re1,Qf3#', 'https://lichess.org/training/u7BT6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7cah', 'Rapid', 'Makarow9x18', 2316, 'Sivenkov', 2262, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Be7,O-O,O-O,h3,c6,c3,Nbd7,Re1,Re8,Bf4,Nf8,Bc2,Ng6,Be5,Nd7,Qd3,Ndxe5,Nxe5,Bf6,Nd2,Bxe5,dxe5,Qb6,Rab1,Be6,Re3,c5,Nf3,Rad8,b3,d4,cxd4,cxd4,Ree1,Rc8,Rbd1,Red8,h4,Rc3,Qd2,Bg4,Bxg6,hxg6,Qf4,Bxf3,gxf3,d3,Re3,Rc2,e6,fxe6,Qe4,Rxa2,Qxg6,Qxb3,Rdxd3,Qb1+,Kg2,Rf8,Qxe6+,Kh8,Re5,g6,Qxg6,Rxf2+,Kxf2,Qb2+,Kg3,Qxe5+,Kh3,Qf4,Qh5+,Kg8,Qd5+,Kh8,Kg2,Rg8+,Kf1,Qc1+,Rd1,Qh6,Qxb7,Qg6,Qb2+,Rg7,Qf2', 'Qa6+,Qe2,Rg1+,Kxg1,Qxe2', 'https://lichess.org/training/u7cah');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7Cp7', 'Rapid', 'MileGM', 1723, 'Alrock', 1691, 'd4,d5,Bg5,Nf6,e3,Ne4,Bh4,g5,Bg3,Nxg3,hxg3,Bg7,Nf3,Bg4,Be2,h6,Nbd2,Qd7,Ne5,Bxe2,Qxe2,Qa4,b3,Qa3', 'Qb5+,c6,Qxb7', 'https://lichess.org/training/u7Cp7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7DiM', 'Classical', 'OneLossADay', 1954, 'OBISTAR', 1863, 'e4,Nc6,d4,e6,Nf3,b6,Bb5,Nf6,Nc3,Bb7,O-O,a6,Bxc6,dxc6,Re1,Be7,h3,Qd7,e5,Nd5,Ne4,O-O-O,a3,f5,Neg5,Rdf8,c4,Bxg5,Nxg5,Ne7,b3,h6,Nf3,g5,Bb2,Ng6,a4,a5,Ba3,Rd8,c5,b5,b4,axb4,Bxb4,Nf4,a5,Nd5,Bd2,Ba6,Bc1,Kb7,Nd2,Rb8,Rb1,Nc3,Qb3,Nxb1,Nxb1,Qxd4,Qxe6,Qxc5,Be3,Qd5,Qxf5,Rbf8,Qg4,Qxe5,Bd2,Qc5,Qg3,Re8,Be3,Qf5,Nd2,Re6,Nb3,Ka8,Nd4,Qe5', 'Nxe6,Qxg3,fxg3', 'https://lichess.org/training/u7DiM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7Jds', 'Blitz', 'IM MassterofMayhem', 2508, 'RigelStar', 2350, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,e6,O-O,Nf6,Qe2,Be7,Rd1,e5,Be3,O-O,Rac1,h6,b4,a6,a3,Qe8,Ba2,Be6,Nd5,Rc8,h3,Bxd5,exd5,Nb8,Rxc8,Qxc8,Rc1,Qd7,Qd2,Rc8,Rd1,Qa4,Bb1,Qxa3,Bxh6,gxh6,Qxh6,Nbd7,Ng5,Rc1', 'Bh7+,Nxh7,Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/u7Jds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U7kD5', 'Rapid', 'Bigotoro', 1751, 'tuplicano', 1840, 'd4,d5,Nc3,e6,e4,c6,e5,c5,dxc5,Bxc5,Nf3,Qb6,Qe2,Bd7,Be3,Bxe3,fxe3', 'Qxb2,Rb1,Qxc3+', 'https://lichess.org/training/U7kD5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U7kjZ', 'Classical', 'ziroki', 1840, 'Sefanstien', 1852, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Be3,Nc6,Nc3,Nf6,a4,d5,Nxc6,bxc6,Bg5,Be7,exd5,cxd5,Be2,O-O,O-O,h6,Bf4,Bb7,Qd3,Qb6,Be3,Qc6,f4,Bb4,Bd4,Bxc3,Qxc3,Qxc3,Bxc3,Ne4,Bb4,Rfb8,Bd3,a5,Ba3,Bc6,b3,Rc8,Rfd1,Nc3,Rd2,d4,Bc5,Rd8,Bc4', 'Ne4,Rxd4,Nxc5', 'https://lichess.org/training/U7kjZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7LSF', 'Rapid', 'sylmix', 1802, 'Midorima-Shintaro', 1765, 'e4,c5,Nf3,Nc6,Nc3,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Bd2,d5,Qf3,Nf6,e5,Nd7,e6,fxe6,O-O-O,Nf6,Bd3,e5,Qg3,e4,Be2,Rb8,Qxb8,O-O,Qxa7,Be6,Bg5,Qd6,Bxf6,Bxf6,Nxe4,Bxb2+,Kxb2,Qb4+,Kc1,Qxe4,Bd3,Qxg2,Qxe7,Bg4,Rhg1,Qf3,Rde1,Qf4+,Kb1,Rb8+,Ka1', 'Qd4+,c3,Qxc3#', 'https://lichess.org/training/u7LSF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7MrZ', 'Rapid', 'Ivan1950', 2469, 'Nunca', 1916, 'e4,e5,Nf3,d6,Bc4,Qf6,O-O,c5,c3,h5,d4,h4,dxe5,Qg6,Kh1,h3,g3,Bg4,exd6,Nc6,d7+,Bxd7,Bf4,O-O-O,Nbd2,Bg4,Qc2,Bd6,Bxd6,Rxd6,Rae1,Qf6,Be2,Nge7,Ng1,Ne5,f4,Bxe2,Rxe2,Rxd2,Qxd2,Nc4,Qc1,Rd8,b3,Nb6,Rd2,Nd7,Rfd1,Qc6,Qc2,f5,Nf3,fxe4,Ne5,Qe6,Rxd7,Rxd7,Rxd7,e3,Qe4,Nc6,Rd5,Qe8,Qxe3,Qh5,Nxc6,Qxd5+,Kg1', 'Qg2#', 'https://lichess.org/training/u7MrZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U7oK6', 'Rapid', 'Moskalenko_Danil', 1787, 'rcor-ua', 1651, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,Nc3,Qf6,d3,Bxf3,Qxf3,Qxf3,gxf3,O-O-O,f4,Bd6,f5,f6,Ne2,g6,Ng3,Ne7,f4,gxf5,Nxf5,Nxf5,exf5,Rhg8+,Kh1,Rg4,fxe5,Bxe5,c3,Rdg8,d4,Bd6,Be3,Rh4,Rf2,Rg5,Rg1,Rxf5', 'Rg8+,Kd7,Rxf5', 'https://lichess.org/training/U7oK6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7Oku', 'Rapid', 'ErnstRosenberg', 1926, 'AKMHaque', 1875, 'd4,e6,c4,d5,Nc3,a6,Nf3,h6,Bf4,Nf6,e3,Bb4,Qc2,Ne4,Bd3,Nxc3,bxc3,Be7,cxd5,exd5,e4,dxe4,Bxe4,O-O,O-O,Nd7,Rab1,c6,Rfd1,Nf6,Bd3,Nd5,Bg3,Bd6,Bxd6,Qxd6,Nd2,Qf4,Nc4,Qg5,Nb6,Nxb6,Rxb6,Bh3,g3,Bg4,Re1,Rab8,Re5,Qf6,Qb2,Bf3', 'Rf5,Qxf5,Bxf5', 'https://lichess.org/training/u7Oku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7Pgw', 'Rapid', 'e163026', 1820, 'Hurmzor', 1774, 'e4,c5,Nc3,Nc6,Nf3,d6,Bc4,Bg4,h3,Bh5,g4,Bg6,d3,e5,Be3,Nf6,Qe2,Be7,O-O-O,O-O,Nh4,Kh8,Nxg6+,fxg6,Nd5,Nd4,Bxd4,cxd4,g5,Nh5,h4,Nf4,Qg4,a6,Rdg1,b5,Bb3,a5,a3,a4,Nxe7,Qxe7,Bd5,Rac8,h5,Nxh5,Rh4,Qc7,Qe2,Nf4', 'Rxh7+,Kxh7,Rh1+,Nh5,Rxh5+,gxh5,Qxh5#', 'https://lichess.org/training/u7Pgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U7Pl5', 'Rapid', 'Discontinuedchess', 1827, 'janpronk', 1823, 'd4,Nf6,Bf4,d6,e3,g6,Be2,Bg7,Nf3,Nbd7,Nbd2,Nh5,Bg5,Bf6,h4,b6,Bb5,a6,Bxd7+,Bxd7,c3,Bb5,Ne4,Bc6,Bxf6,Nxf6,Nxf6+,exf6,O-O,O-O,Nh2,f5,Nf3,Bxf3,Qxf3,Qxh4,c4,Rae8,Rac1,Qf6,Qb7,Qe7,Qxa6,Ra8,Qb5,Rxa2,Ra1,Rfa8,Rxa2,Rxa2,Qb3,Ra5,Qc3,Qe4,b4,Ra8,Ra1,Rxa1+,Qxa1,Qb7,Qc3,h5,d5,Kh7,g3,c6,dxc6,Qxc6,b5,Qc5,f4,d5,Qf6,Kg8,Qd8+,Kg7,Qxd5,Qxd5,cxd5,Kf6,Kf2,Ke7,Kf3,Kd6,e4,fxe4+,Kxe4,f5+', 'Kd4,Kd7,Ke5,Ke7,d6+', 'https://lichess.org/training/U7Pl5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U7To6', 'Blitz', 'slbpsg', 1541, 'Notjana', 1861, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Be7,Bg5,O-O,e3,b6,cxd5,Nxd5,Bd3,Bxg5,Be4,Bb7,Qb3,Be7,Qc2,h6,h4,Nd7,g4,c5,g5,h5,g6,f5,Bd3,Nb4,Qb1,Nxd3+,Qxd3,Bxf3,Rg1,Nf6,Rg3,Bb7,O-O-O,Rc8,e4,Nxe4,Re3,Nxf2,Qe2,Nxd1', 'Qxh5,Rf6,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/U7To6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U7tRL', 'Rapid', 'ReyesB', 1905, 'mhmiguel2000', 2100, 'e4,e5,Bc4,Nf6,d3,c6,c3,Be7,Nf3,d6,h3,O-O,O-O,Nbd7,Re1,Nc5,Nbd2,b5,Bb3,Nxb3,axb3,Be6,b4,Qc7,Nf1,Rfe8,Ng3,g6,Bh6,Bf8,Bg5,Bg7,Qd2,Nd7,Bh6,Nf8,Bxg7,Kxg7,h4,Bg4,Nh2,Bd7,h5,Ne6,h6+,Kh8,Ng4,Qd8,Nh2,Nf4,d4,Qg5,dxe5', 'Nh3+,gxh3,Qxd2', 'https://lichess.org/training/U7tRL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7w8b', 'Rapid', 'godu4', 1944, 'Juantonio', 1820, 'e4,e5,Bc4,Nf6,Nc3,c6,Nge2,d5,exd5,cxd5,Bb3,d4,Nb1,Nc6,d3,Bg4,Bg5,Be7,Nd2,O-O,O-O,h6,Bh4,Nd5,Bg3,Nf4,Bxf4,exf4,f3,Be6,Nxf4,Bxb3,Nxb3,Bg5,Ne2,Be3+,Kh1,f5,c3,f4,cxd4,Nxd4,Nbxd4,Qh4,Nc2,Bb6,Qe1,Qh5,Nc3,Rf5,Ne4', 'Qxh2+,Kxh2,Rh5+,Qh4,Rxh4#', 'https://lichess.org/training/u7w8b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7WJJ', 'Rapid', 'beppe65', 1897, 'alex_tc6', 1726, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Be3,c5,Bc4,cxd4,cxd4,O-O,Ne2,Nc6,O-O,b6,Rc1,Bb7,Bd5,Na5,Bxb7,Nxb7,Qc2,Na5,Qc7,Qe8,Bg5,Qb5,Nc3,Qxg5,Nd5,Rac8', 'Nxe7+,Kh8,Nxc8', 'https://lichess.org/training/u7WJJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u7zNF', 'Rapid', 'Moulayhafid', 1902, 'jon218', 1899, 'd4,e6,Nf3,g6,g3,Bg7,e4,b6,Be3,Bb7,Nbd2,Ne7,Bg2,d6,c4,Nd7,Qa4,O-O,O-O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,f4,Bg7,h4,h5,Bf3,Nf5,Bf2,Nd4,Bxd4,Bxd4,Nb3,Bg7,Nd4,Re8,Rhe1,Re7,Nc6,Bxc6,Qxc6,a5,e5,Qe8', 'Qxa8,Qxa8,Bxa8', 'https://lichess.org/training/u7zNF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U81cI', 'Rapid', 'conoconocono', 1739, 'narodnokolo', 1867, 'Nf3,Nc6,e4,d6,d4,Bg4,d5,Ne5,h3,Nxf3+,gxf3,Bh5', 'Bb5+,c6,dxc6,Qa5+,Nc3', 'https://lichess.org/training/U81cI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U81Vn', 'Rapid', 'Guerberoff', 1733, 'umhausen', 1734, 'e4,Nf6,e5,Nd5,d4,d6,Bc4,c6,Bxd5,cxd5,Nf3,dxe5,Nxe5,Nc6,Bf4,Qb6,c3,Qxb2,Nd2,Qxc3,Nxc6,Qxc6,O-O,e6,Rc1,Qb6,Nf3,Bd6,Bxd6,Qxd6,Ne5,O-O,h4,Bd7,Qf3,f6,Ng4,e5,Ne3,e4,Qh5,Be6,Rb1,Bf7,Qe2,b6,h5,h6,Nf5,Qe6', 'Qg4,Qxf5,Qxf5', 'https://lichess.org/training/U81Vn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u83nK', 'Rapid', 'willmchess', 1964, 'HugeIdiot', 1615, 'e4,b6,d4,Bb7,Bd3,g6,Nf3,Bg7,c3,Nf6,Be3,d5,e5,Ne4,Nbd2,f5,exf6,Bxf6,Qc2,c5,Bxe4,dxe4,Nxe4,O-O,Nxf6+,exf6,O-O-O,Qd5,Kb1,Kg7,dxc5,Qf5,Qxf5,gxf5,cxb6,axb6,Bxb6,Bxf3,gxf3,Ra6,Bc5,Rc8,Rhg1+,Kf7,Bb4,Nc6,Ba3,Rca8,Rd7+,Ke6,Rd6+,Ke5,Re1+,Kf4,Rxf6,Ne5,Rxa6,Rxa6,Bc5,Nd3,Be3+,Kxf3,Rd1,Nxf2,Bxf2,Kxf2,Rd2+,Ke3,Rc2,Rd6,b4,f4,c4,f3,Rc3+,Rd3,Rc1,Ke2,c5,f2,Kc2,Rd2+,Kc3,Rd1,Rc2+,Ke1,Rxf2,Kxf2,a4,Rh1,b5,Rc1+,Kb4,Ke3,b6,Rb1+', 'Ka5,Kd4,c6', 'https://lichess.org/training/u83nK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U83Qo', 'Rapid', 'VOLVLAD62', 1999, 'SakshamJain1', 1996, 'e4,e6,d4,d5,Nd2,c5,Ngf3,cxd4,Nxd4,Bc5,N4b3,Nd7,exd5,exd5,Nxc5,Nxc5,Bb5+,Bd7,Qe2+,Ne7,Nf3', 'Qa5+,Bd2,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/U83Qo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u8CEK', 'Rapid', 'andre55561', 2029, 'dfarchich1', 1730, 'e4,c6,f4,d5,e5,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Ne7,Nf3,g6,c3,Bg7,Na3,Nd7,Nc2,c5,O-O,cxd4,cxd4,a5,Bd2,Nc6,Rac1,Qb6,b3,Ndb8,Rf2,Na6,g4,Nab4,Nxb4,Nxb4,Bxb4,axb4,Kg2,O-O,f5,Rfc8,Rfc2,Rxa2,Rxa2,Rxc1,Ra8+,Bf8,f6,Qc6,Kg3,Rc3,Qb1,b6,Qa2,Rxb3', 'Rxf8+,Kxf8,Qxb3', 'https://lichess.org/training/u8CEK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U8dVb', 'Blitz', 'kozaznosa', 2256, 'zurabib', 2312, 'e4,d6,d4,Nf6,Nc3,g6,h3,Bg7,Bg5,O-O,Nf3,Nc6,Qd2,e5,d5,Nd4,Nxd4,exd4,Qxd4,h6,Bxf6,Bxf6,Qd2,c6,Qxh6,cxd5,exd5,Re8+,Be2,Qa5,Qd2,b6,O-O,Bb7,Bf3,Rac8,Rad1,Bxc3,bxc3,Qxc3,Qf4,Qc5,h4,Re5,h5,Rf5,Qg4,Qc4,Qg3,Qf4,Bg4,Qxg3,fxg3,Rxf1+,Rxf1,Rxc2,hxg6,fxg6', 'Be6+,Kh8,Rf8+,Kh7,Rf7+,Kh6,Rxb7', 'https://lichess.org/training/U8dVb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u8Ed8', 'Blitz', 'FM andro2', 2345, 'JaToKozak', 2288, 'e4,e6,d4,d5,Nd2,Be7,e5,h6,f4,c5,c3,Nc6,Ne2,cxd4,cxd4,Qb6,Nf3,Bd7,g3,Rc8,Bh3,Nb4,O-O,Bb5,Kg2,g5,fxg5,hxg5,Bxg5,Nh6,Bxe7,Kxe7,Rf2,Nc2,Qd2,Nxa1,Qg5+,Kd7,Nc3,Rcg8,Qf4,Bd3,Nxd5,Qc6,Nf6+,Kc7,Nxg8,Nxg8,Qxf7+,Kb6,Bxe6,Nh6,Qf6,Rh7,d5,Qc5,Bg8+,Ka5,Bxh7,Ng4,Qd8+,b6,Bxd3,Qxf2+,Kh3,Qxf3,Qc7', 'Nf2+,Kh4,Qg4#', 'https://lichess.org/training/u8Ed8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u8gIC', 'Classical', 'georgethes', 1660, 'Simon_Pe', 1971, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,d6,Bg5,Be7,Nbd2,h6,Bxf6,Bxf6,Nb3,Bg4,Be2,O-O,d4,exd4,cxd4,Qe7,d5,Ne5,Nxe5,Bxe2,Qxe2,Qxe5,Rb1,Rfe8,f3,Bg5,O-O,c6,dxc6,bxc6,Qf2,d5', 'f4,Qxf4,Qxf4,Bxf4,Rxf4', 'https://lichess.org/training/u8gIC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u8iQp', 'Rapid', 'gzalvarezg', 1814, 'Yarahmadi', 1724, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,d5,exd5,exd5,Qe2+,Be7,Bb5,c4,Ne5,Bd7,Qf3,Nxe5,Bxd7+,Nxd7,O-O,Ngf6,Re1,O-O,Bg5,Ne4,Bxe7,Qxe7,Nc3,Qg5,Nxe4,dxe4,Qxe4,Nf6,Qxb7,Qf4,Rad1,Ng4,Qf3,Qxh2+,Kf1,Nf6,Ke2,Rae8+,Kd2,Rxe1,Rxe1,Qh6+,Kd1,Qg6,g3,h6,Qc3,Ne4,Qe3,Qh5+,Kc1,Nf6,a4,Qa5,b3,cxb3,cxb3,Rc8+,Kb2,Rb8,Rc1,Qxa4', 'Rc8+,Rxc8,bxa4', 'https://lichess.org/training/u8iQp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u8JV8', 'Rapid', 'Tavernard', 1733, 'stanislawchess69', 1672, 'e4,e5,Nf3,Nc6,Bb5,Qf6,Nc3,Nge7,d3,Nd4,Nxd4,exd4,Ne2,a6,Bc4,b5,Bb3,Ng6,Ng3,Bd6,Nf5,O-O,Qf3,Be5,h4,d6,Bg5,Nxh4,Rxh4,Qxg5,Rg4,Qd8,Bxf7+,Rxf7', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/u8JV8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u8nny', 'Blitz', 'CM ReinaldoR', 2319, 'FM mmsanchezchess', 2475, 'e4,e6,d4,d5,Nc3,Bb4,Ne2,dxe4,a3,Be7,Nxe4,Nf6,Qd3,O-O,Bf4,Nbd7,N2c3,Nxe4,Nxe4,Nf6,O-O-O,Nxe4,Qxe4,Bg5,h4,Bxf4+,Qxf4,Qd6,Qe4,Bd7,Bd3,f5,Qe3,Bc6,f3,Rae8,Rde1,Qd5,Kb1,Bb5,Bxb5,Qxb5,Qe5,Qd7,Re2,f4,h5,Rf5,Qe4,e5,h6,gxh6,Rxh6,Rg5,Qxb7,Qxd4,Re4,Qd1+,Ka2,Qd7,Qb3+,Kg7,Ra6,Ra8,Qc4,Qf7,Rc6,Qxc4+,Rexc4,Rxg2,Rxc7+,Kg6', 'R4c6+,Kf5,Rf7+,Kg5,Rg7+', 'https://lichess.org/training/u8nny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U8nVv', 'Rapid', 'GO7413', 1745, 'Jubiscreia', 1712, 'b3,e5,e4,Nf6,Qe2,Nc6,Bb2,Bc5,g3,Nd4,Qd3,b6,Bg2,a5,Nc3,Ba6,Nb5,Bxb5,c4,Bc6,f3,O-O,Ne2,d6,Nxd4,exd4,O-O,d5,exd5,Bd7,Kh1,Rb8,Bxd4,Bxd4,Qxd4,b5,c5,c6,d6,a4,b4,Nd5,a3,Be6,f4,Qd7,Be4,Rbe8', 'f5,Nc7,fxe6', 'https://lichess.org/training/U8nVv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U8oIu', 'Classical', 'alijunior', 1744, 'Ravil91', 1669, 'd4,e6,Bf4,b6,Nd2,Bb7,Ngf3,h5,h4,Nc6,e3,g6,g3,Bh6,c3,Bxf4,exf4,Nf6,Ne5,Nxe5,f3,Nc6,Bg2,Na5,Rh2,Nd5,Qe2,Qf6,Ne4,Qg7,O-O-O,c5,dxc5,bxc5,Qd2,Nc4,Qd3,Nde3', 'Qxd7+,Kf8,Qxb7', 'https://lichess.org/training/U8oIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U8Rgt', 'Rapid', 'ArtureRimbaud', 1812, 'ariel_the_lion', 1815, 'd4,e6,Nf3,Nf6,e3,b6,Nbd2,Bb7,c4,c5,dxc5,Bxc5,b3,Bb4,Bb2,Bxf3,Qxf3,Nc6,Rd1,e5,Be2,e4,Qf4,d5,cxd5,Qxd5,Bxf6,gxf6,Qxf6,O-O,Bc4,Qe5,Qxc6,Rad8,Qb5,Rxd2,Qxe5,Rd5+,Ke2,Rxe5,Rd4,Rc8,Rhd1,b5,Bd5,Rc2+,Kf1,Bc3,Rxe4,Rxd5,Rxd5,Rc1+,Ke2,Rc2+,Kf3,Be1,Rg4+,Kf8,Rxb5,Rxf2+,Ke4,Rxa2,Kf5,a6,Rb7,Rf2+,Ke4', 'f5+,Ke5,fxg4', 'https://lichess.org/training/U8Rgt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u8S8L', 'Rapid', 'wasiwan', 1799, 'samihayek', 1812, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,a6,Nf3,dxc4,Bxc4,b5,Be2,Bb7,O-O,Nbd7,Rc1,O-O,a3,c5,dxc5,Nxc5,b4,Nce4,Nxe4,Nxe4,Bxe7,Qxe7,Qb3,Bd5,Qb2,Rfd8,Nd4,Qg5,Nf3,Qg6,Rc7,Ng5,Ne5', 'Nh3+,Kh1,Qxg2#', 'https://lichess.org/training/u8S8L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u8si3', 'Classical', 'xe18banh', 1944, 'Knights_Move', 1886, 'e4,c5,Nc3,Nc6,Bb5,e6,f4,Nf6,Nf3,Be7,O-O,O-O,d3,Nd4,Bc4,d5,Bb3,Nxf3+,Qxf3,Qb6,exd5', 'c4+,Be3,Bc5', 'https://lichess.org/training/u8si3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U8tXr', 'Blitz', 'Akashcityhunter', 1801, 'jl_93', 1789, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,Nf6,d5,Ne5,Nxe5,dxe5,Nc3,g6,Bg5,Bg7,f4,exf4,Bxf4,O-O,Bd3,Bg4,Qd2,Rc8,h3,Bd7,Bh6,Re8,Bxg7,Kxg7,O-O-O,Qa5,Kb1,a6,e5,Nxd5,Nxd5,Qxd5,Rhe1,Qc5,h4,Bb5,Bxb5,Qxb5,h5,Red8', 'h6+,Kf8,Qxd8+,Rxd8,Rxd8+', 'https://lichess.org/training/U8tXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u8U3k', 'Rapid', 'Simon381', 1758, 'ADHI_1', 1762, 'd4,Nf6,c4,d5,c5,e6,Nf3,c6,Bg5,Be7,e3,Ne4,Bxe7,Qxe7,Nbd2,Nxd2,Qxd2,b6,b4,bxc5,bxc5,O-O,Bd3,a5,a4,Na6,O-O,Nb4,h3,Nxd3,Qxd3,Ba6,Qc2,Bxf1,Kxf1,f5,Ne5,Ra6,Qe2,Rfa8,Rb1,Qc7,Kg1,R6a7,Rb6,Rb8,Rxc6,Rb1+,Qf1,Rxf1+,Kxf1,Qb7,Kg1,h6,Rxe6,Qb1+,Kh2,Qf1,Kg3,h5,c6,h4+,Kf3,Qd1+,Kf4,Qxa4,Nf3,Qb4,Ng5,Re7', 'c7,Rxc7,Re8+,Qf8,Rxf8+,Kxf8,Ne6+,Ke7,Nxc7', 'https://lichess.org/training/u8U3k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u8zwx', 'Rapid', 'torro_neos', 1957, 'abuomar', 1978, 'e4,c5,Bc4,d6,Nf3,Nf6,Bxf7+,Kxf7,Ng5+,Kg8,f4,h6,O-O,hxg5,fxg5,Nxe4,g6,e5,d3,Nf6,Qf3,Nc6,Bg5,Be7,Bxf6,Bxf6', 'Qd5+,Be6,Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/u8zwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U8Zyv', 'Blitz', 'A61415077FERNANDO', 2151, 'fandi88', 2173, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,Nf6,Nc3,e6,f4,Bb4,e5,Ne4,Qd3,Qh4+', 'g3,Nxg3,Qxg3,Qxg3+,hxg3', 'https://lichess.org/training/U8Zyv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U900Q', 'Blitz', 'benbela94', 1862, 'mstef', 1836, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,Nc3,g6,exd6,cxd6,Bd3,Bg7,Be3,O-O,Nf3,Bg4,Be4,Nc6,O-O,Nxc4,b3,Nxe3,fxe3,e6,h3,Bxf3,Qxf3,d5,Bd3,Nxd4,Qf2,Nxb3,axb3,Bxc3,Rac1,Bg7,h4,Rc8,Rxc8,Qxc8,h5,Qc3,Bc2,Rc8,Qxf7+,Kh8,h6,Qxe3+,Kh1,Qxh6+,Kg1,Rxc2', 'Qe8+,Bf8,Rxf8+,Kg7,Rf7#', 'https://lichess.org/training/U900Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u91S6', 'Rapid', 'REMIT_01', 2303, 'GrEyCaPsUsEr', 2071, 'e4,c5,f4,Nc6,Nf3,g6,Bb5,Bg7,Bxc6,bxc6,d3,d5,O-O,Bg4,Nbd2,Rb8,h3,Bxf3,Nxf3,Bxb2,Bxb2,Rxb2,Qd2,Nf6,Qc3,Qb6,e5,Nh5,e6,f6,Qd2,O-O,g4,Ng7,f5,g5,h4,h6,hxg5,fxg5,Ne5,Qb4,Qxb4,Rxb4,Nxc6,Rxg4+,Kh2,Nxf5', 'Rxf5,Rxf5,Nxe7+,Kf8,Nxf5', 'https://lichess.org/training/u91S6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u97t6', 'Rapid', 'DrAndrey', 1818, 'mikhelst', 1966, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,Nf6,Nc3,Bg4,h3,Bxf3,gxf3,e6,Bg5,Be7,Qd2,h6,Bh4,g5,Bg3,Qb6,O-O-O,a5,Bb5,Nd7,f4,Nb4,Bxd7+,Kxd7,Kb1,Rhc8,f5,a4,f6,Bxf6,e5,Be7,exd6,Bxd6,Bxd6,Kxd6,h4,a3,b3,Qc6,Rc1,Qf3', 'Nb5+,Ke7,Qxb4+', 'https://lichess.org/training/u97t6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9BFV', 'Classical', 'sonibhavik_2010', 1833, 'RomulusUK', 1892, 'd4,f5,Nc3,Nf6,Bg5,h6,Bxf6,exf6,e4,g6,exf5,Qe7+,Be2,gxf5,Nd5,Qg7,Nxc7+,Kd8,Nxa8,Qxg2,Bf3,Qg5,Ne2,Bd6,Qd2,Qh4,Ng3,Re8+,Kf1,Nc6,c3,Bf4,Qc2,d6,Re1', 'Qh3+,Bg2,Rxe1+,Kxe1,Qxg2', 'https://lichess.org/training/u9BFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9DW9', 'Rapid', 'leejunho', 1624, 'MineSonmez', 1609, 'd4,Nf6,Bg5,e6,Bxf6,Qxf6,Nc3,d5,e4,Nc6,e5,Qg6,Bb5,Bd7,Bxc6,Bxc6,Nf3,Be7,O-O,O-O,Ne2,f6,Nf4,Qh6,Nxe6,fxe5,Nxf8,Rxf8,Nxe5,Bb5,Re1,Qf6,f4,Qxf4,Qf3', 'Qxd4+,Kh1,Rxf3', 'https://lichess.org/training/u9DW9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U9ERN', 'Classical', 'Kasparosky', 1657, 'aeiouyz', 1639, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Be6,Bd3,Bb4,Bg5,O-O,a3,Ba5,b4,Bb6,O-O,Nbd7,a4,c6,a5,Bc7,Re1,Re8,Ne2,h6,Bh4,Bd6,c3,Qc7,Bc2,Ne4,Ng3,Nxc3,Qd3,Ne4,Nxe4,dxe4,Qxe4,Nf8,Ne5,Bd5,Qd3,Bxb4,Re2,Be7,Bg3,Qd8,Rae1,Qxa5,Nd7,Ng6,Rxe7', 'Qxe1+,Rxe1,Rxe1+', 'https://lichess.org/training/U9ERN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9fYq', 'Blitz', 'Samarin', 1736, 'andgranath', 1782, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Nf3,e5,d5,Nbd7,Be3,Nh5,Qd2,f5,exf5,gxf5,Bh6,f4,Bxg7,Kxg7,Bd3,Nc5,Bc2,Nf6,O-O,Kh8,b4,e4,Ng5,Rg8,Ngxe4,Ncxe4,Nxe4,Bxh3,Qxf4,Rxg2+,Kh1,Nxe4,Qxe4,Qg8,Qh4', 'Rh2+,Kxh2,Qg2#', 'https://lichess.org/training/u9fYq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9gT8', 'Classical', 'OK2021', 2081, 'duttaSagnik', 1948, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Qe7,cxd4,Bxd4,Nxd4,Qxe5+,Be3,Qa5+,Nc3,Nxd4,Qxd4,O-O,O-O,b6,Bg5,Qxg5,f4,Qg4,Be2,Qg6,f5,Qg5,h4,Qg3,Rf3,Qd6,Qf2,Bb7,Rg3,Rfe8,Rd1,Qb4,Rg5,Qxb2,Qd4,Rxe2,Nxe2,Qxe2,Rd2,Qe1+,Kh2,Qe7,h5,d6,h6,g6,fxg6,hxg6,Rf2,Ne4,Rf4,f6,Rxg6+,Kh7', 'Rg7+,Qxg7,hxg7', 'https://lichess.org/training/u9gT8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9IGO', 'Blitz', 'GioMonte', 1770, 'usavran', 1913, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,Nf6,Bd3,Bb4,O-O,Nc6,Bg5,O-O,a3,Be7,Re1,Re8,Bf4,Bd6,Qd2,Bxf4,Qxf4,Ne7,Ne4,Nxe4,Qxe4,g6,Ng5,Nf5,Qf4,Qxd4,Qxd4,Nxd4,Ne4,Kg7,g4,b6,Re3,Bb7,Ng3,h6,h3,Rad8,f4,Kf6,Kf2,g5,Nh5+,Ke7,f5,Rh8,fxe6,fxe6,c3,Rhf8+,Ke1,Nb3,Rd1,Nc5,Bc4,Rxd1+,Kxd1,Kd6,Ke2,Bd5,Bd3,Nd7,c4,Bb7,Ng7,e5,Nf5+,Kc5', 'b4+,Kc6,Be4#', 'https://lichess.org/training/u9IGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9jDw', 'Blitz', 'Rizeli_Reis', 1655, 'max_gena1978', 1669, 'e4,c5,d4,cxd4,c3,d5,Qa4+,Bd7,Qxd4,dxe4,Qxe4,Nf6,Qxb7,Bc6,Bb5,Qd5,Qc8+,Qd8,Bxc6+,Nxc6,Qxc6+,Nd7,Be3,e6,Nf3,Rc8,Qb7,Rc7,Qb5,Be7,Ne5,O-O,Nxd7,Rxd7,O-O,Rd5,Qb7,Rd7,Qa6,Qb8,b3,Rd6,Qxa7,Qc8,c4,Bf6,Bc5,Rfd8,Bxd6,Bxa1,Bg3,Bd4,Qe7,Bf6,Qc7,Qa8,a4,h6,a5,Rc8,Qb6,Bd8,Qe3,Bxa5,Na3,Bb4,Nb5,Rd8,Bf4,Qa2,Nd4,Qa7,Be5,Bc5,Rd1,f6,Bc7,Rxd4,Qxe6+,Kh7,Qf5+,Kg8,Qe6+,Kf8,Rxd4', 'Qa1+,Rd1,Qxd1+,Qe1,Qxe1#', 'https://lichess.org/training/u9jDw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9JqG', 'Blitz', 'capareborn', 2045, 'UnckensteinDrDr', 2122, 'e4,Nc6,d4,d5,Be3,Nb4,c3,Na6,Nd2,h5,exd5,c6,dxc6,bxc6,Ngf3,Nf6,Ne5,Nb8,Bc4,Nd5,Qf3,Be6,O-O,g6,Ne4,Bg7,Ng5,Bxe5,Nxe6,fxe6,dxe5,Nd7,Bd4,Rf8,Qg3,Kf7,Bd3,Rg8,Qg5,c5,Be3,Qc7,Bf4,Nxf4,Qxf4+,Kg7,Rae1,Rab8,Qg5,Nf8,b3,Kh8,Qh6+,Nh7,Bxg6,Rg7,Re3,Rbg8,Be4,Qxe5,Bxh7', 'Rxg2+,Kh1,Rxh2#', 'https://lichess.org/training/u9JqG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9K01', 'Rapid', 'jovial69', 1978, 'Swingchopchop', 2038, 'd3,d5,Nc3,Nf6,Nf3,Nc6,Bg5,e5,Bxf6,gxf6,e4,dxe4,Nxe4,f5,Ng3,Bd6,Qd2,Qf6,Qg5,Qxg5,Nxg5,h6,Nf3,h5,O-O-O,h4,Ne2,f6,Nc3,Be6,Kb1,O-O-O,Be2,Bc5,Rhf1,Rdg8,g3,hxg3,hxg3,a6,a3,Nd4,Nxd4,Bxd4,f4,Rxg3,fxe5,fxe5,Bf3,c6,Ne2,Rg7,Nxd4,exd4,Kc1,Rh2,Rd2,Rxd2,Kxd2,Rh7,Rf2,Rf7,Bg2,f4,Be4,Kc7,Ke2,Bg4+,Ke1,Kd6,Rg2,Bf5,Bf3,Ke5,Rg5,Kf6,Rh5,Rg7,Kf2,Rh7', 'Rxf5+,Kxf5,Be4+,Kf6,Bxh7', 'https://lichess.org/training/u9K01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9lii', 'Rapid', 'deeney0', 1723, 'GiridharGG', 1810, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,d6,h3,Na5,O-O,Nxb3,axb3,Be7,Nc3,O-O,Be3,b4,Ne2,Ne8,Qd2,f5,exf5,Bxf5,Ng3,Bxh3,Bg5,Bg4,Bxe7,Qxe7,Nh2,Rf4,Nxg4,Rxg4,Rfe1,Qf7,Re4,Rxe4,dxe4,a5,Qd3,Nf6,Qb5,Ng4,f3,Ne3,Qc6,Qe8,Qxc7,Rc8,Qxd6,Rxc2,Rxa5,Rxg2+,Kh1,Rxg3,Rxe5,Qf8,Qe6+,Qf7', 'Qc8+,Qf8,Re8', 'https://lichess.org/training/u9lii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9nAR', 'Blitz', 'CM jacobomelendez', 2310, 'ErnestoRondon', 2259, 'e4,c5,Nf3,a6,c4,Nc6,Nc3,e5,d3,d6,Be2,f5,O-O,f4,Nd5,Nf6,Rb1,a5,Bd2,Be7,b3,O-O,a3,Be6,Ne1,h6,Nc2,Nd4,Nxd4,cxd4,b4,axb4,axb4,Nxd5,cxd5,Bd7,Bg4,Qc8,Bxd7,Qxd7,Rc1,Rfc8,Qb3,Qb5,Rc4,Rf8,f3,Bd8,Rfc1,Bb6,Be1,Ra4,Kf2,Kh7,g3,fxg3+,hxg3,Raa8,Kg2,Qe8,R1c2,Qh5,Rf2,Bd8,Bd2,Bg5,Qc2,Qg6,Bxg5,Qxg5,Qc1,Qh5,Rc7,b5,Rc6,Rf6,Rb6,Raf8,Qd1,Rg6,Qh1,Qg5,Qh3,Qe3,Rxb5,Qxd3,Rb7,Rff6,Rb8,Rg5,b5,Rfg6,g4,Rf6,b6,Qb5,b7,Rf7,Qh1,Rxb7,Rxb7,Qxb7,Qc1,Qb3,Qc6,Rg6,Qd7,h5,Qf5,hxg4,fxg4,Qe3,Rf3,Qh6', 'Rh3,Qxh3+,Kxh3', 'https://lichess.org/training/u9nAR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U9OZI', 'Rapid', 'Br1_97', 1522, 'Jarl_Drogomir', 1595, 'd4,e6,e4,d5,e5,f6,Nf3,Nh6,Bb5+,c6,Ba4,Qa5+,Nc3,b5,b4,Qd8,Bb3,Bxb4,Bxh6,Bxc3+,Nd2,Bxa1,Bxg7,Rg8,Bxf6,Qb6', 'Qh5+,Rg6,Qxh7,Rxf6,exf6', 'https://lichess.org/training/U9OZI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9rRN', 'Blitz', 'Danya-Khalimov_2004', 2412, 'FM HAMHAM22', 2401, 'd4,a6,c3,c6,Nf3,d5,e3,Bf5,Bd3,Bxd3,Qxd3,e6,O-O,Nd7,Nbd2,Ngf6,e4,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qh4,h6,Ne5,Bd6,Re1,Qc7,Nc4,Be7,Bf4,Qd8,Qh3,Nd5,Bg3,O-O,a4,c5,Red1,cxd4,Rxd4,b5,Ne3,Bc5,Nxd5,Bxd4,Nc7,Bxf2+,Kxf2,Qd2+,Kg1,Qxb2,Rf1,Rac8,axb5,axb5,Be5,Qd2,Qg3,f6,Bxf6,Rxf6,Rxf6,b4,Nxe6,Qd7,Rg6,Qd1+,Kf2,Qd2+,Kf1,Qd1+,Qe1', 'Qd3+,Kg1,Qxg6', 'https://lichess.org/training/u9rRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U9Rs3', 'Rapid', 'SheldonCooper2018', 2095, 'bosspotato', 2301, 'd4,f5,Nc3,Nf6,Bg5,d5,Bxf6,exf6,e3,Be6,Bd3,Qd7,h4,Nc6,a3,O-O-O,Nh3,Kb8,Nf4,Bf7,h5,Ne7,Qf3,c6,Na4,b6,Nc3,Nc8,Qh3,Nd6,O-O-O,Rg8,Qh2,Ka8,g4,Ne4,gxf5,Nxc3,bxc3,Bxa3+,Kd2,Bd6,Qh4,Rde8,Ra1,c5,Ne6,c4,Be2,Bxe6,fxe6,Qc7,Bf3,Qc6,Rhb1,Rxe6,Qh1,Re4,Bxe4,dxe4,Ra6,Kb7,Rba1,Bb8,Qg2,Qe6,f3,f5,fxe4,fxe4,R6a4,g5,Rf1,g4,Rb4,g3,Rb5,Rg4,Rbf5,Rh4,Rf7+,Ka8,Kc1', 'Rh2,Qg1,g2', 'https://lichess.org/training/U9Rs3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U9vMF', 'Classical', 'KingConqueror01', 1986, 'modernjze', 1909, 'd4,d5,c4,c6,e3,Nf6,Nc3,a6,cxd5,cxd5,Nf3,Bf5,Qb3,Nc6,Qxb7,Na5,Qb4,Bd7,Nd1,e5,Qd2,Ne4,Qc2,Rc8,Nc3,Bb4,Bd2,Nxd2,Qxd2,e4,Ng1,O-O,Rc1,Qb6,f4,exf3,Nxf3,Bb5,Bxb5,Qxb5,Nxb5', 'Rxc1+,Ke2,Bxd2,Rxc1,Bxc1', 'https://lichess.org/training/U9vMF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9xHQ', 'Classical', 'FM bahamapapa', 2102, 'dasvidaniyarodina', 2256, 'e4,e5,Bc4,Nf6,d3,Nc6,Nc3,Bc5,f4,d6,Nf3,exf4,Bxf4,O-O,Bg5,h6,Bh4,Bg4,Nd5,g5,Bf2,Bxf2+,Kxf2,Ne5,Bb3,c6,Ne3,Nh5,h3,Bxf3,gxf3,Ng6,Nf5,Kh7,Qd2,Qf6,c3,Ng7,Nxg7,Qxg7,Rag1,Nh4,f4,f5,e5,dxe5,fxg5,f4,gxh6,Qxh6,Rg4,Nf5,Qe1,Ne3,Kf3,Rf5,Qg1,Raf8,Rg8,R8f6', 'Rh8+,Kxh8,Qg8#', 'https://lichess.org/training/u9xHQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U9Z9v', 'Rapid', 'NITESH08', 1840, 'ridamo', 1840, 'd3,e6,e3,d5,h3,c5,a3,Nc6,b3,Nf6,Bb2,Be7,Ne2,e5,Nd2,Be6,g4,h6,Bg2,b5,e4,d4,a4,b4,Ng3,a5,Rg1,g5,Qf3,Qd7,Nf5,Bxf5,exf5,O-O-O,Qxc6+,Qxc6,Bxc6,Kc7,Bb5,Rhf8,O-O-O,Nd5,Nc4,f6,Nxa5,Nf4,Nc4,Ne2+,Kb1,Nxg1,Rxg1,Rh8,Na5,h5,Nc6,Rd7,gxh5,Rxh5,Rh1,Bd6,a5,Rdh7,a6,Kb6,a7,Rh8,Ba4,R5h7,f3,Rc7,h4,Rxc6,Bxc6,Kxc6,h5,Kb7,h6,Kxa7,h7,Kb6,Rh6,Be7,Bc1,Kc7,Bd2,Kd7,f4,gxf4,Be1,Ke8,Bh4,Kf7,Kc1,Kg7,Rg6+,Kf7,Rh6,Kg7,Rg6+,Kxh7,Bxf6,Bxf6,Rxf6,Re8,Kd2,Kg7,Rg6+,Kf7,Rc6,e4,dxe4,Rxe4,Rxc5,f3,f6,f2,Rf5,Re6,Rxf2,Rxf6', 'Rxf6+,Kxf6,Kd3,Ke5,Kc4', 'https://lichess.org/training/U9Z9v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('U9zEE', 'Blitz', 'MyronLawz', 1911, 'hokkuto', 1892, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,e3,axb5,Bxb5,Qa5+,Nc3,Bb7,Bc4,e6,Bd2,Qb6,e4,Nxe4,Nxe4,exd5,Bxd5,Bxd5,Qe2,Be7,Bc3,O-O,Nh3,Re8,O-O,Na6,Qg4,g6,Rad1,Qc6,Nhg5,Nc7,Qf4,f5,Qh4,h5,Ng3,Ne6,f4,Bxg2,Nxh5,Bxf1', 'Nf6+,Bxf6,Qh7+,Kf8,Qf7#', 'https://lichess.org/training/U9zEE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9zKW', 'Rapid', 'joto4', 1606, 'zcccu17', 1694, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Qf6,Bxd5+,Be6,Bxe6+,Kxe6,Qxf6+,gxf6,O-O,Nd4,Na3,Ne2+,Kh1,Nxc1,Raxc1,Bh6,Rcd1,Rhg8,g3,a6,Rfe1,b5,f4,Rg4,d4,Rd8,fxe5,Rgxd4,exf6+,Kxf6,Rf1+,Ke6,Rde1+,Kd5,Rf5+,Kc6,Rf6+,Kb7,Rxh6,Rd2,Rxh7,b4,Nc4,Rxc2,Na5+,Kb6,Nb3,Rxb2,Rh6+,Ka7,Nc5,Rxa2,Rc6,Rdd2,Rh6,Rac2,Rxa6+,Kb8,Rc6,Rxh2+,Kg1,Rhg2+,Kh1,Rxg3,Rb1,Rgc3,Rxb4+,Kc8,Rb5,Rh3+,Kg1,Rg3+,Kf1,Ra3,Rb1,Rf3+,Ke1,Rh3,Kd1,Rg2,Re6', 'Rh1+,Re1,Rxe1+,Kxe1,Rg1+,Kd2,Rxb1', 'https://lichess.org/training/u9zKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('u9zlq', 'Rapid', 'vittubhargav', 1762, 'Josrime', 1789, 'e4,e5,Nf3,d6,Bc4,Be7,Nc3,Nf6,d4,exd4,Nxd4,O-O,O-O,c6,Re1,Nbd7,Bf4,Nb6,Bb3,d5,e5,Ne8,Qf3,Bg5,Nce2,Nc7,Qg3,Bxf4,Nxf4,c5,Nh5,g6,Nf6+,Kg7,Nf3,c4,Qh4,Rh8,Ng5,h6,Ngh7,Rxh7', 'Nh5+,gxh5,Qxd8', 'https://lichess.org/training/u9zlq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UA04d', 'Rapid', 'j1212t', 1676, 'zan68', 1694, 'e4,c5,Nf3,d6,c3,g6,d4,cxd4,cxd4,Bg7,Nc3,Nc6,d5,Ne5,Bf4,Nxf3+,Qxf3,a6,Qe3,b5,a3,Nf6,Bh6', 'Ng4,Bxg7,Nxe3', 'https://lichess.org/training/UA04d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UA1AG', 'Blitz', 'Aristeo93', 1644, 'Dat_Das', 1720, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,O-O,O-O,d6,b4,Bb6,Bb3,Ne5,h3,a6,Nd2,N7c6,f4,Bxd4,cxd4,Nd3,e5,dxe5,fxe5,Qh4,Nf3,Qe4,Qe2,Ndxb4,Ng5,Nxd4,Qh5,Qxe3+,Kh1,h6,Nxf7,Nxb3,Nxh6+,gxh6', 'Qg6+,Kh8,Rxf8#', 'https://lichess.org/training/UA1AG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UA4NC', 'Blitz', 'yabadass', 1690, 'DragonBallSean', 1689, 'c4,e5,e3,d6,Ne2,Nf6,Nbc3,Nc6,a3,Bd7,b3,Qe7,Bb2,O-O-O,Rc1,Kb8,Ng3,g6,Qc2,Be6,b4,d5,cxd5,Nxd5,Nce4,Bf5,Nxf5,gxf5,Ng3,f4,Ne4,fxe3,dxe3,f5,Ng3,f4,Nf5,Qe6,Bd3,fxe3,O-O,exf2+,Rxf2,h5,Bb5,Nd4,Nxd4,exd4,Re2,Qd6,Bxd4,Rg8,Rf1,Bg7,Bxg7,Rxg7,Bc4,Rdg8,Rd1,Qb6+,Kh1,c6,Bxd5,cxd5,Rxd5,Qf6,Rd1,Rf8,Ree1,Rfg8,Rc1,Rxg2,Re2,Rxe2', 'Qc7+,Ka8,Qc8+,Rxc8,Rxc8#', 'https://lichess.org/training/UA4NC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UA4q5', 'Rapid', 'Stanba', 2055, 'ozgurdue', 2083, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Bd6,O-O,O-O,Bg5,Nbd7,Nbd2,c6,c3,Qc7,h3,h6,Be3,Re8,Re1,Ne4,Nf1,f5,Qc2,Ndf6,c4,Qf7,cxd5,cxd5,N3d2,Be6,f3,Ng3,Nxg3,Bxg3,Bf2,Bxf2+,Kxf2,Rac8,Qb1,Qh5,Rxe6,Rxe6,Bxf5,Qh4+,Kf1,Ree8,Bxc8,Rxc8,Qf5,Re8,f4,Qg3,Nf3,Re4,Re1,Rxf4,Qe6+,Kh7,Qe2,Ne4,Kg1', 'Rxf3,Qxf3,Qxe1+', 'https://lichess.org/training/UA4q5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UA5eJ', 'Rapid', 'boelleud', 1877, 'Cephos', 1907, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Be6,Bxe6,fxe6,d4,exd4,cxd4,Nf6,Bg5,Be7,Nbd2,O-O,O-O,Ng4,Bxe7,Qxe7,Rc1,Rac8,h3,Nf6,Qb3,Na5,Qa4,b6,b4,Nb7,Qxa7,c5,e5,Nd5,Ne4,dxe5,Nxe5', 'Ra8,Qxa8,Rxa8', 'https://lichess.org/training/UA5eJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ua6Od', 'Rapid', 'yogi_en', 1659, 'tioli', 1655, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,Ne5,Qh4+,Kf1,Nh6,d3,d6,Nxf7,Nxf7,Bxf4,Nc6,Bg3,Qf6+,Ke1,Qxb2,Nd2,Qg7,Rf1,Nfe5,Bd5,Bd7,Nc4,O-O-O,Rb1,Re8,Nxe5,dxe5,c3,Bd6,Qb3,b6,Qa4,Na5,Qc2,Be6,Bf2,Bxd5,exd5,Bc5,Qa4,Bxf2+,Rxf2,g3,hxg3,Qxg3,d6,cxd6,Qe4,Rhf8,Qa8+,Kc7,Qxa7+,Nb7,Qxb6+,Kd7,Qxb7+,Ke6,Rb2,Rxf2,Rxf2,Qe3+,Re2', 'Qc1+,Kf2,Rf8+', 'https://lichess.org/training/Ua6Od');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uA7Ve', 'Blitz', 'asz232', 1522, 'Theyellowstone', 1593, 'b3,e5,Bb2,e4,d3,exd3,cxd3,d5,Nd2,Nf6,Ngf3,c5,e4,d4,Be2,Nc6,O-O,Be7,h3,O-O,Nh2,Be6,Ng4,Qd7,f4,Nxg4,hxg4,f6,f5,Bf7,a3,b6,Kf2,Bd6,Rh1,Qe7,Rh3,Qe5,Qh1,h6,Nc4,Qf4+,Rf3,Qg5,Qh3,Bxc4,bxc4,Ne5,a4,Nxf3,Bxf3,a5,Bc1,Bf4,Bxf4,Qxf4,Rd1,Qd6,e5,fxe5,Bxa8,Rxa8,Qf3,Qd7,Rb1,Qxa4,Rb5,Qc2+,Kg3,a4,Qxa8+,Kh7,Rxb6,Qxd3+,Kh2,Qxc4,Ra6,d3,Rxa4,Qc3,Qd5,d2,Ra2,Qb4,Qxd2,Qxg4,Rc2,c4,Qf2,Qh5+,Kg1,Qd1+,Kh2,Qh5+,Kg3,Qg5+,Kf3,Qxf5+,Ke3', 'Qd3#', 'https://lichess.org/training/uA7Ve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uA89r', 'Rapid', 'zabraxa', 1741, 'ggamboah', 1705, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Be2,Nc6,g4,Nd7,Be3,e5,d5,Ne7,Qd2,c5,dxc6,Nxc6,Qxd6,Re8,O-O-O,Re6,Qa3,Nd4,Nf3,Ra6,Qb4,Bf8,c5,Bxc5,Qc4,Nxe2+,Qxe2,Bxe3+,Qxe3,Qc7,Rd2,Rxa2,Kb1,Ra6,Nd5,Qc5,Qxc5,Nxc5,Nc7,Nb3,Rd8+,Kg7,Nxa6,bxa6,Kc2,Nc5,Rd5,Nxe4,Nxe5,Be6,Ra5', 'Rc8+,Kd3,Nxf2+,Ke3,Nxh1', 'https://lichess.org/training/uA89r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ua8kG', 'Rapid', 'mm1335', 1910, 'Ignat125', 1999, 'e4,c6,a3,d5,e5,Bf5,d4,e6,Nf3,Ne7,Bd3,Bxd3,Qxd3,Nd7,O-O,c5,c3,Nc6,h3,Be7,Be3,Qb6,dxc5,Qc7,b4,Ncxe5,Nxe5,Nxe5,Qd1,Nc4,Nd2,Nxd2,Qxd2,b6,cxb6,axb6,a4,O-O,Rfe1,Rfc8,Bd4,Qc6,Qe3,Rxa4,Rxa4,Qxa4,Qg3,Bf8,Re3,Qc6,Qg5,h6,Qg4,Qc7,Be5,Qc4,f4,Kh7,Rg3,g6,h4,Be7,h5,Rg8,Bd4,Qc7,Kh1,b5,Qf3,Bd6,Be5,Bxe5,fxe5,Rg7,hxg6+,fxg6,Qf6,Qf7,Rf3,Kg8', 'Qd8+,Kh7,Rxf7', 'https://lichess.org/training/Ua8kG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ua8Xp', 'Rapid', 'KINGsDagger', 1826, 'mozzie29', 1783, 'd4,e5,dxe5,d5,exd6,Bxd6,Nf3,Bf5,h3,Nc6,a3,Nf6,Bg5,h6,Bxf6,Qxf6,Nc3,O-O-O,Qc1,g5,e4,Rhe8,Bd3,g4,hxg4,Bxg4,Qxh6,Qxh6,Rxh6,Bxf3,gxf3,Nd4,O-O-O', 'Bf4+,Kb1,Bxh6', 'https://lichess.org/training/Ua8Xp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uA9wV', 'Rapid', 'vegyesz1998', 1771, 'polina-49_01', 1754, 'd4,d5,c4,Bg4,h3,Bh5,Qb3,e6,Qxb7,Nc6,Qxc6+,Ke7,e3,Rb8,Qc5+,Ke8,Qxa7,dxc4,Bxc4,e5,Qa4+,Ke7,b3,exd4,Bd2,dxe3,Bb4+,Kf6,Bxf8', 'Qd1#', 'https://lichess.org/training/uA9wV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uaA1D', 'Rapid', 'solo_chess', 1690, 'Irtex', 1723, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,d6,Ng5,O-O,d3,h6,Nf3,Bg4,h3,Bh5,Nh4,Nd4,f3,Nxe4,Nxe4,Nxf3+,Kh1,Qxh4,Rxf3,Bxf3,Qxf3,Bb6,Be3,Qe7,Bxb6,axb6,Nf2,c6,Re1,d5,Bb3,Rfe8,d4,e4,Qc3,Qf6,Ng4,Qe7,a3,f5,Ne5,g5,Qg3,c5,Ng6,Qf6,Ne5,cxd4,Nd7,Qe6', 'Bxd5,Qxd5,Nf6+,Kf8,Nxd5', 'https://lichess.org/training/uaA1D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAadC', 'Blitz', 'Firman_ST', 2020, 'Mayank--7', 2016, 'd4,c5,dxc5,e5,c6,Nxc6,Nf3,d5,e3,Nf6,Bb5,Bd6,O-O,O-O,b3,e4,Bxc6,bxc6,Nd4,Qc7,h3,Bh2+,Kh1,Be5,Bb2,c5,Nb5,Qe7,N1c3,a6,Na3,c4,Rb1,Bxc3,Bxc3,Qxa3,Bxf6,gxf6,Qxd5,cxb3,Qxa8,bxc2,Rbc1,Bxh3,Qxe4,Be6,Qxc2,Kh8,g3,Bd5+,e4', 'Qf3+,Kg1,Bxe4,Qxe4,Qxe4', 'https://lichess.org/training/uAadC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UaAzQ', 'Blitz', 'keremk0catepe', 1783, 'SlabeuszTadeusz', 1678, 'e4,e6,d4,d5,Nd2,Nc6,Ngf3,Bd7,c3,h6,Bd3,dxe4,Nxe4,Nf6,Ned2,Bd6,O-O,O-O,Re1,Ne7,Nc4,Bc6,Nfe5,Bd5,Qe2,c6,Nxd6,Qxd6,Bf4,Qd8,c4,Bxg2,Kxg2,Qxd4,Qf3,Nf5,Bxf5,exf5,Rad1,Qxb2,Bxh6,Ne4,Rxe4,fxe4,Qg3,g6,Rd7,Rae8,Qxg6+,fxg6', 'Rg7+,Kh8,Nxg6#', 'https://lichess.org/training/UaAzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uaBb9', 'Blitz', 'overworkedpawn', 1608, 'alimjrx', 1504, 'e4,e5,Nf3,c5,Bc4,Nc6,Nc3,d6,d3,h6,O-O,f5,a4,f4,a5,g5,a6,g4,Nh4,Qxh4,g3,fxg3,fxg3,Qh3,Bf7+,Kd8,Nd5,Nge7,Qe2,h5,Qf2,h4,Qf6,hxg3', 'Qxd6+,Bd7,Qc7#', 'https://lichess.org/training/uaBb9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAbMj', 'Classical', 'Brodinski13', 1682, 'east_one', 1706, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,d6,Bb3,Be6,O-O,O-O,Nbd2,Nh5,Re1,Nf4,Nf1,h5,Bxf4,exf4,d4,Bb6,d5,Ne5,Nxe5,dxe5,dxe6,Qh4,exf7+,Kh8,g3,Qh3,gxf4,exf4,Bc4', 'f3,Ne3,Bxe3,Qxf3,Qxf3', 'https://lichess.org/training/uAbMj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uaC1b', 'Rapid', 'brm54', 2083, 'forward11', 2230, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,e6,O-O-O,Be7,h4,Qa5,Kb1,O-O-O,Rhe1,h6,Be3,Kb8,Bd2,Qc7,Be3,Qa5,Qd3,d5,exd5,Nxd5,Nxd5,Bxd5,Bf4+,Ka8,c4,Bxf3,Qxf3,Bf6,g3,Qb4,Qb3,Qxb3,axb3,b6,Kc2,Kb7,Rxd8,Rxd8,Be5,Bxe5,Rxe5,Kc6,Re3,Kd6,Rd3+,Ke7,Rxd8,Kxd8,b4,Kd7,Kc3,Kd6,f4,f6,Kd3,g6,Ke4,h5,b3,a6,Kd4,e5+,Ke3,f5,fxe5+,Kxe5,Kd3,f4,gxf4+,Kxf4,Kd4,g5,hxg5,Kxg5,c5,bxc5+,bxc5,Kf6,Kd5,Ke7,Kc6', 'h4,Kb6,h3,c6,h2', 'https://lichess.org/training/uaC1b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uacwy', 'Blitz', 'AlecCormack', 1820, 'mrcgentes', 1878, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Nf6,Nc3,Bb4,Bd3,Nc6,Ne2,Ne5,a3,Bc5,O-O,Qc7,Bf4,g5,Bxg5,Rg8,Bxf6', 'Nf3+,Kh1,Qxh2#', 'https://lichess.org/training/Uacwy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UADtS', 'Rapid', 'E_Hamm', 1769, 'KKKS', 1758, 'e4,c5,Bc4,e5,Nf3,Nc6,c3,Nf6,d3,Be7,Qb3,O-O,Bg5,a6,Nbd2,Ng4,Bxe7,Qxe7,h3,Nf6,Qc2,b5,Bd5,Nxd5,exd5,Nd8,O-O,Bb7,c4,bxc4,dxc4,Qf6,Rfe1,Re8,Ne4,Qg6,Qc3,Rb8,Nxc5,d6,Nd7,Rc8,Nb6,Rb8,b4,a5,bxa5,Ba6,Rab1,Nb7,Nd2,Nc5,Qa3,Nd3,Re3,Nf4,Rg3,Qc2,Qe3,Bxc4,Nbxc4,Rxb1+,Kh2,Rbb8,Nxd6,Red8,N2c4,Rb4,Qxe5,Ng6,Qd4,Rxd6,Qc5,Rxc4,Qxd6,Rc8,a6,Qxa2,Qb6,h6,a7,Ra8', 'Qb8+,Rxb8,axb8=Q+', 'https://lichess.org/training/UADtS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UAdz5', 'Rapid', 'Karpov1986', 2121, 'pzmp', 1849, 'e4,e5,Nf3,Bc5,Nc3,d6,Bc4,Nf6,O-O,h6,h3,O-O,Re1,Qe7,d4,exd4,Nxd4,a6,Nf5,Qe8,a3,b5,Ba2,Bb7,Nd5,Bxd5,exd5,Qd7,Qd3,Re8,Bd2,Re5,Rxe5,dxe5,Bc3,e4,Qg3', 'Qxf5,Bxf6,Qxf6', 'https://lichess.org/training/UAdz5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAe9x', 'Blitz', 'dipaks', 1589, 'Dulfinator', 1602, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,g6,Qc3,Nf6,e5,Nd5,Qc5,e6,Qb5,a6,Qe2,Nd4,Qd3,Qa5+,Bd2,Qc5,c3,Nb5,Be3,Nxe3,fxe3,Qxe5,Nf3,Qd6,Qe4,Nc7,Nbd2,Bg7,O-O-O,Qe7,Nc4,d5,Qf4,dxc4,Bxc4,Bxc3,bxc3,Qa3+,Kd2,Qb2+,Ke1,Qxc3+,Nd2,b5,Bb3,Bb7,Kf2,Nd5,Bxd5,Bxd5,Rc1,Qxd2+,Kg3,Qxg2+,Kh4,Ke7', 'Rc7+,Ke8,Qxf7+,Kd8,Qd7#', 'https://lichess.org/training/uAe9x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UaeDB', 'Rapid', 'Arn169', 1848, 'gaurav_t', 2152, 'Nf3,d5,d4,Bf5,Bf4,e6,Nbd2,Nc6,a3,Bd6,Bxd6,cxd6,e3,Qb6,b4,Nf6,Nh4,Bg6,Nxg6,hxg6,h3,Ne4,Nxe4,dxe4,Be2,Rc8,c4,Ne7,O-O,Nf5,c5,Qc6,b5,Qd5,Qa4,dxc5,dxc5,O-O,Rfd1,Qxc5,Qxe4,Qc2,Bd3,Qc7,a4,Rfd8,Qf3,b6,Bxf5,gxf5,Rxd8+,Qxd8,Rd1,Qc7,Qe2,f4,e4,Rd8,Re1,Rd4,Ra1,Qe5,f3,f5,a5,fxe4,axb6,axb6,Ra8+,Kh7,Qf2,Rd1+,Kh2,Qg5,fxe4,f3,Qxf3', 'Qe5+,Qg3,Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/UaeDB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UAflc', 'Blitz', 's996', 2037, 'edikklok', 2026, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nd7,c3,Ngf6,Nxf6+,Nxf6,Nf3,Bg4,Be2,e6,O-O,Be7,Ne5,Bxe2,Qxe2,O-O,f4,c5,Be3,Qb6,dxc5,Bxc5,Bxc5,Qxc5+,Kh1,Rfd8,Rad1,Qb6,Nc4,Qb5,b3,Nd5,Qf3,Qa6,f5,exf5,Qxf5,Nf6,Ra1,Rd5,Qf3,Rad8,h3,Rd3,Qe2,Rxc3,Rad1,Rxd1,Rxd1,h6,Rd8+,Kh7,Qf2,Qc6,Qf5+,g6,Qe5,Rxh3+,Kg1,Rh5,Qb8,Rg5', 'Rh8+,Kg7,Qf8#', 'https://lichess.org/training/UAflc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAHIK', 'Rapid', 'veterano10', 1893, 'Dan575', 2222, 'e4,Nc6,Bc4,e5,Nf3,Bc5,c3,Nf6,d3,d6,Bg5,O-O,O-O,h6,d4,exd4,cxd4,Nxd4,Nxd4,hxg5,Nc3,Qe7,Nf5,Bxf5,exf5,Qe5,Bd3,Rae8,Qb3,Bxf2+,Rxf2,Ng4,Ne4,Qxh2+,Kf1,Qh1+,Ke2,Qxa1', 'Rf1,Qxf1+,Kxf1', 'https://lichess.org/training/uAHIK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAI9y', 'Rapid', 'aquagelas', 1666, 'grmoll', 1664, 'e4,c6,Nf3,d5,exd5,cxd5,d3,Nc6,Be2,Nf6,h3,e6,Be3,Bd6,d4,a6,a3,b5,Nc3,Bb7,O-O,O-O,Qd2,Rc8,Bg5,Be7,Bxf6,Bxf6,Nd1,Qb6,c3,Be7,Ne3,Na5,Qd1,Nc4,Bxc4,dxc4,Ne5,Rfd8,f4,Bh4,f5,Be4,fxe6,Qxe6,Rxf7,Bg6,Nxg6,Qxe3+,Kh1,Kxf7,Nxh4,Rd5,Qg4,Qe6,Rf1+,Ke7,Nf5+,Rxf5,Qxg7+,Rf7,Rxf7+,Qxf7,Qe5+,Qe6,Qg7+,Kd6,Qxh7,Rf8,Qh5,Kc6', 'Qc5+,Kd7,Qxf8,Qe1+,Kh2', 'https://lichess.org/training/uAI9y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uaIgg', 'Rapid', 'PashkaPetrovich', 1792, 'kassa', 1969, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bd2,Bd6,Nf3,O-O,Be2,Re8,O-O,Bf5,Bg5,c6,Re1,Nbd7,h3,Qc7,Bd3,Rxe1+,Nxe1,Bg6,Bxg6,hxg6,Nf3,Re8,Qd3,b5,Re1,Rxe1+,Nxe1,Ne4,Nxe4,dxe4,Qxe4,Nf6,Bxf6,gxf6,Nf3,c5,dxc5,Bxc5,h4,a5,Qe8+,Kg7,Qxb5,Ba7,Qd3,Qb6,Qe3,Qc7,Qe2,a4,b3,a3,c4,Qf4,Qd2,Qe4,Kf1,Qb1+,Ne1,Qb2,Qc2,Bd4,g3,Bc3,Qe2,Qb1,c5,Bxe1,Qxe1,Qxa2,c6,Qxb3,c7', 'Qc4+,Kg1,Qxc7', 'https://lichess.org/training/uaIgg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uaj9H', 'Rapid', 'Vibhanshu', 1647, 'Bigbobmango2', 1671, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,h3,O-O,Nc3,d6,d3,a6,Ba4,b5,Bb3,Be6,Ng5,Bd7,a3,h6,Nf3,Be6,Nd5,a5,c3,a4,Nxf6+,Qxf6,d4,exd4,Nxd4,Nxd4,cxd4,Bxd4,Bxe6,fxe6,Qe2,Rab8,Rb1,c6,Be3,Bxe3,Qxe3,c5,Rfe1,b4,e5,dxe5,Qxe5,Qxf2+,Kh1,Rbe8,axb4,cxb4,Qd6,b3,Rxe6,Rxe6,Qxe6+,Kh8,Qa6,Qf4,Ra1,Qd4,Qe2,Rf2,Qe8+,Kh7,Qxa4,Qxb2', 'Qe4+,g6,Ra7+,Qg7,Rxg7+', 'https://lichess.org/training/uaj9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UAJyU', 'Classical', 'Rob19891989', 1621, 'Dinesh_db', 1633, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Re1+,Be7,Bb5,Nf6,Ne5,O-O,Bxc6,bxc6,Nxc6,Qd7,Nxe7+,Kh8,Nxc8,Raxc8,d3,Ng4,Qf3,Rce8,Rxe8,Rxe8,Nd2', 'Re1+,Nf1,Rxf1+,Kxf1,Nxh2+,Ke2,Nxf3', 'https://lichess.org/training/UAJyU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAm69', 'Rapid', 'thiaguinho', 1879, 'Krisschess', 1722, 'd4,d5,c4,e6,Nf3,Nf6,Bf4,Nbd7,Nc3,a6,e3,Nh5,Bg3,Nxg3,hxg3,Bb4,cxd5,exd5,Rc1,Nf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/uAm69');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UAMfx', 'Rapid', 'MarineLePen_FR', 2383, 'Soulcella', 2349, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,h6,Qd2,g5,fxg5,cxd4,Nxd4,Ndxe5,gxh6,Bxh6,Bxh6,Qh4+,g3,Qxd4,O-O-O,Qxd2+,Bxd2,Nf3,Bg2,Nxd2,Rxd2,Bd7,Nb5,Ke7,Re2,a6,Nc7,Rag8,Nxd5+,Kd6,Nf6,Rd8,Rd2+,Kc7,Nxd7,Rxd7,Rxd7+,Kxd7,h3,Kc7,Rf1,f5,c3,Rg8,Bxc6,Kxc6,Rg1,e5,g4,fxg4,hxg4,Kd5,Kd2,Ke4,g5,Rg6,Ke2,b5,b3,a5,a4,bxa4,bxa4,Kf4,Kd3,e4+,Kd4,Rd6+,Kc5,Rg6,Kd4,Rd6+,Kc5,Rg6,Kb5', 'Rxg5+,Rxg5,Kxg5,c4,e3', 'https://lichess.org/training/UAMfx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UAnPY', 'Blitz', 'mamadouwin', 2719, 'GM Odessacoach', 2697, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,Nge7,Na3,cxd4,cxd4,Nf5,Nc2,Qb6,O-O,Na5,b3,Bb5,Bd2,Bxe2,Qxe2,Nc6,Bc3,Be7,Rac1,h5,Qd3,g5,Ne3,Nxe3,fxe3,O-O-O,b4,Kb8,a4,Nxb4,Bxb4,Qxb4,Rb1,Qc4,Qxc4,dxc4,Nd2,c3,Ne4,Rc8,Rbc1,c2,Rf2,Rc4,Rcxc2,Rxc2,Rxc2,Rc8,Rf2,Rc1+,Rf1,Rxf1+,Kxf1,Kc7,Ke2,Kc6,Kd3,b5,axb5+,Kxb5,Nc3+,Kb4,d5,a5,d6,Bd8,Ne2,a4,Nd4,a3,Nc6+', 'Kb3,Nd4+,Kb2', 'https://lichess.org/training/UAnPY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAnw0', 'Rapid', 'amun784', 1947, 'SomethingAboutJens', 1903, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,c4,c6,Nc3,d5,cxd5,cxd5,Bd3,b6,O-O,Bb7,h3,Nh5,Bh2,Nd7,Rc1,Rc8,a3,a6,Qe2,b5,b4,Re8,a4,e5,dxe5,Nxe5,axb5,Nxd3,Qxd3,Rxc3,Rxc3,Bxc3,Qxc3,axb5,Nd4,Qg5,Qc7,Bc8,Nf3,Qf6,Nd4,Qg5,Kh1,Nf6,Nxb5,Ne4,Nd6,Nxd6,Qxd6,Qf5,b5,Qe4,Kg1,Bb7,Qf4,Qd3,Qb4,Re4,Qb1,Qc3,Rc1,Qf6,Rc7,Re7,b6,d4,exd4,Qg5,Bg3,Qd5,Qf1', 'Re1,Rxb7,Rxf1+,Kxf1,Qxb7', 'https://lichess.org/training/uAnw0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UAnzc', 'Classical', 'vireshvirkar', 1745, 'Topobanana', 1759, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Be7,Nf3,Nf6,Nxf6+,Bxf6,Bc4,O-O,O-O,Nc6,Be3,a6,a4,Rb8,d5,exd5,Bxd5,Ne7,Bb3,Qxd1,Raxd1,Bxb2,Bc5,Bf6,Rfe1,Re8,Ne5,Be6,Bxe6,fxe6,Nd7,Rbd8', 'Nxf6+,gxf6,Rxd8,Rxd8,Bxe7', 'https://lichess.org/training/UAnzc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UAnZM', 'Rapid', 'naukarus19', 1864, 'PepaDeMelon', 1804, 'd4,d5,Nf3,Nf6,Bg5,Qd6,a3,h6,Bh4,g5,Bg3,Qd8,e3,Nc6,c4,Bg7,cxd5,Nxd5,Nc3,Nxc3,bxc3,Be6,c4,Bf5,Be2,O-O,O-O,Re8,Qb3,b6,Rfc1,e5,dxe5,Nxe5,Rd1,Qe7,Rac1,Nxf3+,Bxf3,Rad8,Rd5,Be6,Rxd8,Rxd8,Qa4,a5,Be2,Bb2,Rc2,Bxa3,Bxc7,Rd7,Bxb6,Qd6,Qxa5', 'Qd1+,Bf1,Qxc2', 'https://lichess.org/training/UAnZM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uao6a', 'Rapid', 'goLfwAnG', 1963, 'MaksBezshChessPlayer', 1759, 'Nc3,e6,d4,d5,Nf3,c5,e4,Nc6,exd5,exd5,Bf4,Nf6,Bb5,Qb6,O-O,Be6,Re1,O-O-O,dxc5,Bxc5,Bxc6,Bxf2+,Kh1,Bxe1,Bxb7+,Kxb7,Qxe1,Ka8,Na4,Qb5,b3,Bf5', 'Nd4,Qa6,Nxf5', 'https://lichess.org/training/Uao6a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAObQ', 'Rapid', 'naders307', 1985, 'jack-50', 1930, 'd4,d5,Nf3,c6,Bf4,Bf5,e3,e6,Nbd2,Bd6,Bg3,Nf6,Nh4,Bg6,Ndf3,Nbd7,c3,Bxg3,hxg3,Be4,Nd2,Qb6,Nxe4,Nxe4,Qc2,Ndf6,Bd3,c5,O-O-O,c4,Bxe4,Nxe4,Rh3,g5,Nf3,g4,Rh4,gxf3,gxf3,Nd6,Rxh7,Rxh7,Qxh7,O-O-O,e4,dxe4,fxe4,Qc7,e5,Ne8,f4,f5,Qxc7+,Kxc7,Rg1,Ng7,g4,Rh8,gxf5,Nxf5,Rg6,Kd7,b3,cxb3,axb3,Ke7,Kc2,Kf7,Rf6+,Ke7,Kd3,b5,d5,Rh3+,Kd2,Ng7,d6+,Ke8,d7+,Ke7', 'Rf7+,Kxf7,d8=Q', 'https://lichess.org/training/uAObQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAoME', 'Rapid', 'Komkon-2', 1947, 'caarzon', 2056, 'c4,e5,e3,Bb4,a3,Ba5,b4,Bb6,c5,d5,cxb6,axb6,d4,e4,Nc3,Nf6,Be2,Be6,f3,O-O,fxe4,Nxe4,Nxe4,dxe4,Bg4', 'Qh4+,g3,Qxg4,Qxg4,Bxg4', 'https://lichess.org/training/uAoME');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UAOvX', 'Classical', 'IsraelMoral', 1629, 'okuluk', 1671, 'e4,d6,f4,e5,Nf3,Bg4,Be2,Nc6,d3,f6,h3,Bh5,Nc3,Nge7,f5,d5,O-O,d4,Nb5,a6,Na3,Bf7,c3,Nc8,cxd4,Nxd4,Nxd4', 'Qxd4+,Kh2,Bxa3', 'https://lichess.org/training/UAOvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uApkN', 'Blitz', 'LeGollumBridge', 1589, 'newbieover9k', 1580, 'd4,d5,Bf4,e6,Nf3,Nf6,e3,Bd6,Bg3,O-O,c3,h6,Bd3,Ne4,Nbd2,Nxg3,hxg3,c5,dxc5,Bxc5,Qc2,Nc6,Bh7+,Kh8,Bd3,e5,Be2,Bg4,O-O-O,Rc8,Rh4,Bxf3,Rdh1,Nb4', 'Rxh6+,gxh6,Rxh6+,Kg7,Qh7#', 'https://lichess.org/training/uApkN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAqOD', 'Rapid', 'cabbada', 1826, 'abdou1', 1798, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Bd7,Bc4,Nc6,Bg5,Be7,O-O,Ne5,Bb3,O-O,Bxf6,Bxf6,Nd5,c5,Nf3,Be6,Nxf6+,Qxf6,Bxe6,Qxe6,Nxe5,Qxe5,f4,Qxe4,Qxd6,Qxc2,Rfc1,Qxb2,Qxc5,h6,Rcb1,Qd2,Rxb7,Qxf4,Rxa7,Rxa7,Qxa7,Rd8,a4,Rd4,a5', 'Qe3+,Kh1,Rd1+,Rxd1,Qxa7', 'https://lichess.org/training/uAqOD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UaSlp', 'Rapid', 'adungS', 1870, 'Lyuteev_Saha', 1828, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Nxc6,bxc6,e5,Nd5,Nxd5,cxd5,Bd3,Qc7,Qe2,d6,Bf4,Bb7,Bb5+,Bc6,Bxc6+,Qxc6,O-O,dxe5,Bxe5,Bd6,Bxg7,Rg8,Bd4,O-O-O,Rac1,Bb8,c4', 'dxc4,g3,Rxd4', 'https://lichess.org/training/UaSlp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uasnt', 'Rapid', 'hgarciamillan', 1841, 'bratishko_grygoriy', 1833, 'c4,Nf6,Nc3,c6,e4,d5,e5,Nfd7,d4,dxc4,Bxc4,e6,f4,Nb6,Bd3,Be7,Nf3,Nd5,Qc2,h6,Nxd5,cxd5,a3,a6,O-O,O-O,f5,exf5,Bxf5,Bxf5,Qxf5,Qd7,Qf4,Nc6,Qg3,Kh7,Nh4,Nxd4', 'Qd3+,Kg8,Qxd4', 'https://lichess.org/training/Uasnt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UaT19', 'Rapid', 'mauro3366', 1684, 'Cdaby', 1675, 'e4,a5,Nf3,h6,Bc4,d6,h3,c6,Nc3,b5,Be2,a4,a3,e5,O-O,Bxh3,gxh3,Qd7,Kg2,g5,d3,f6,Be3,h5,Nh2,g4,hxg4,hxg4,Bxg4,Qg7,f3,Nh6,Bxh6,Rxh6,Rh1,Rg6,Kf2,Nd7,Bh5,O-O-O,Bxg6,Qxg6,d4,Nb6,dxe5,dxe5,Qg1', 'Bc5+,Ke2,Bxg1', 'https://lichess.org/training/UaT19');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAt6O', 'Rapid', 'Andrej_Kazancev', 1896, 'xxjanixx', 1921, 'e4,g6,g3,Bg7,Bg2,e6,Nc3,a6,d4,Ne7,Nf3,O-O,O-O,b5,Bg5,Bb7,Bxe7,Qxe7,Qd2,d6,a4,b4,Na2,a5,Qe3,c5,dxc5,dxc5,e5,Nd7,Rad1,Rac8,Qg5,Qd8,Qxd8,Rcxd8,Rfe1,Bxf3,Bxf3,Bxe5,Rxd7,Rxd7,Rxe5,Rc7,Nc1,Rd8,Nb3,c4,Nxa5,Rd2,Rb5,Rxc2,Rxb4,c3,Rb8+,Kg7,bxc3,R2xc3,Bb7,Ra3,Bc6,Ra7,Nc4,Ra1+,Kg2,Rc1,Rb7', 'Rxb7,Bxb7,Rxc4', 'https://lichess.org/training/uAt6O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uat7X', 'Rapid', 'siddharthr', 2137, 'LeoFa', 2106, 'e4,g6,d4,Bg7,c3,d6,Bd3,Nc6,Ne2,Nf6,O-O,O-O,h3,e5,d5,Ne7,c4,Nd7,Nbc3,Nc5,Qc2,Nxd3,Qxd3,f5,exf5,Bxf5,Qe3,Bd7,f4,Nf5,Qd3,exf4,Nxf4,Nd4,Be3,Bf5,Qd2,c5,Bxd4,Bxd4+,Kh1,Qg5,Rad1,Qg3,Nce2,Qe3,Nxd4,cxd4,Qxd4,Qg3,Ne6,Bxe6,dxe6,Rae8,Rxf8+,Rxf8,Qxd6', 'Rf1+,Rxf1,Qxd6', 'https://lichess.org/training/uat7X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uauSz', 'Rapid', 'FOTONDELUZ', 1743, 'bobchess77', 1734, 'd4,d5,c4,Nf6,Nc3,Bf5,e3,e6,Nf3,Bb4,Be2,Bxc3+,bxc3,c6,cxd5,exd5,Nh4,Be6,O-O,Ne4,Nf3,Nxc3,Qd2,Ne4,Qb4,Qe7,Qa5,b6,Qa4,Nc3,Qc2,Nxe2+,Qxe2,c5,dxc5,bxc5,a4,O-O,Bb2,Bg4,h3,Bxf3,Qxf3,Qe6,Rfd1,Rd8,Qg3,Qg6,Qc7,Qd6,Qb7,Nc6,Qb3,Rab8,Qc3,f6,Rd2,d4,Qc4+,Kf8,exd4,Rb4,Qd3,cxd4,Ba3,Kg8,Rb2,Ne5,Qg3,Nc4,Bxb4', 'Qxg3,fxg3,Nxb2', 'https://lichess.org/training/uauSz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAvvq', 'Classical', 'Carlson101', 1682, 'a01a01', 2016, 'e4,c5,Nf3,d6,Nc3,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,e5,a3,Be7,Nd5,Nf6,Nxe7,Qxe7,d3,O-O-O,h3,Bd7,Nh2,Be6,c4,Qd7,Bg5,Rdg8,Bxf6,gxf6,Qf3,Bxh3,Qxf6,Rxg2+,Kh1,Rg6', 'Qxh8+,Qd8,Qxd8+', 'https://lichess.org/training/uAvvq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uAVwu', 'Blitz', 'Igor_Posikera', 1507, 'titasanc', 1567, 'e4,c5,f4,e6,Nf3,b6,Be2,Bb7,d3,c4,O-O,cxd3,Bxd3,Bc5+,Kh1,h5,f5,exf5,exf5,Nf6,Bg5,Nc6,Bxf6,Qxf6,Nc3,Nd4,Nxd4,Bxd4,Ne4,Bxe4,Bxe4,Rc8,c3,Be5,Bb7,Rb8,Be4,h4,Qd5,h3,g3,O-O,Rf3,d6,g4,Rbc8,Rxh3,Rc5,Qd3,Rd8,c4,Bxb2,Rb1,b5,cxb5,d5,Bf3,Rc3,Qd2,Rc5,Rxb2,Rdc8,Rb1,Rc2,Qxd5,Rc1+,Rxc1,Rxc1+,Kg2,Qb2+,Kg3,Rg1+,Kh4', 'Qf6+,g5,Qxg5#', 'https://lichess.org/training/uAVwu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uaWBL', 'Blitz', 'BigBadWeirdo', 1561, 'Keesvantol', 1615, 'e4,e6,Nf3,b6,Bc4,Bb7,Bb3,Bxe4,Nc3,Bb7,d4,Be7,O-O,Nf6,Re1,O-O,d5,exd5,Nxd5,Bxd5,Bxd5,c6,Bb3,Na6,Be3,Nc5,Bxc5,Bxc5,Ne5,Rc8,Qf3,d5,c4,Ne4,Rxe4,dxe4,Qxe4,Qd4,Qf5,Rce8,Nd7,g6,Qh3,Qxf2+,Kh1,Qxb2,Rf1,Qe2', 'Nf6+,Kg7,Qxh7#', 'https://lichess.org/training/uaWBL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UAxOa', 'Classical', 'irakli777', 1741, 'TheBigTiger', 1856, 'e4,c6,d4,d5,c4,dxe4,c5,e6,Bc4,b5,Be2,Nf6,Bg5,Be7,Bxf6,Bxf6,Nc3,Bxd4,Nxe4,O-O,Rb1,e5,Nf3,Qd5,Nxd4,Qxe4,Nf3,Na6,O-O,Nxc5,Ng5,Qf5,Qc1,e4,b4,Ne6,Qxc6,Rb8,Nxe6,Bxe6,a3,Rbc8,Qd6,Rfd8,Qg3,Rc2,Bxb5,Qxb5,Qh4,Qd5,h3,f6,Rbd1,Rd2,Rc1,h6,Rc5,Qd6,a4,g5,Qxh6,Bf7,Rcc1,Qf4,b5,R8d6,f3,f5,Rc8+,Rd8,Rxd8+,Rxd8,fxe4,Qe3+,Kh1,Qxe4', 'Qxg5+,Kh7,Qxd8', 'https://lichess.org/training/UAxOa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UaZtD', 'Blitz', 'carahuevo', 2043, 'Ricardon', 2070, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Nf3,Nc6,g3,Bf5,Bg2,e6,e3,Be7,O-O,O-O,Qb3,Qc7,Nh4,Bg4,Bd2,a6,Rac1,Na5,Qc2,Qd8,h3,Bh5,Nf3,Bg6,Qa4,b5,Qd1,Nc4,b3,Nb2,Qe2,Bd3,Qe1,Bxf1,Bxf1,Rc8,Rc2,b4,Rxb2,bxc3,Bxc3,Ba3,Rb1,Ne4,Ba5,Qd6,b4,Rc2,Ne5,Rfc8,Rb3,Rc1,Qe2,R8c2,Qf3,Rxf1+,Kxf1,Nd2+,Kg2,Nxf3,Kxf3,Rxa2,Rc3,g6,Ng4,Bxb4,Rc8+,Kg7,Bd8,g5', 'Bf6+,Kg6,Rg8+,Kf5,Rxg5#', 'https://lichess.org/training/UaZtD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ub1mD', 'Blitz', 'Dbosman', 1660, 'Gavatt', 1590, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Bf5,e3,Ne4,Nxe4,Bxe4,f3,Bg6,cxd5,cxd5,Bb5+,Nc6,Rc1,Qa5+,Qd2,Qxb5,Ne2,f6,Bh4,e5,dxe5,Bb4,Rc3,Bxc3,bxc3,Qb1+,Nc1,O-O,O-O,fxe5,Qxd5+,Bf7,Qd2,Rad8,Bxd8,Rxd8,Qf2,Bc4,Re1,b5,e4,b4,Nb3,Bxb3,Rxb1,Bxa2,Qxa2+,Kh8,cxb4,Nd4,Qxa7,Ne2+,Kf2,Nc3,Rc1,Rd2+,Kg3,Ne2+,Kh3,h6,Rc7,Nf4+,Kg4', 'Rxg2+,Kf5,Rg5#', 'https://lichess.org/training/Ub1mD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ub2DY', 'Classical', 'lynecote1964', 2069, 'henryairsword', 2030, 'e4,c5,Nc3,d6,f4,g6,Nf3,Bg7,d4,cxd4,Nxd4,Nf6,Be3,Nc6,a3,Bd7,Be2,O-O,O-O,Nxd4,Bxd4,Bc6,Qd3,Qc7,Rad1,Rfd8,Nd5,Nxd5,exd5,Bd7,Bxg7,Kxg7,Qd4+,Kg8,c4,Bf5,g4,Bd7,f5,Rf8,fxg6,fxg6,Rxf8+,Rxf8,Qxa7,Rf4,h3,Re4,Bd3,Rf4,Re1,Bxg4,hxg4,Rxg4+,Kf1,Rf4+,Ke2,Qd7,Kd2,Rf3,Qd4,Qd8,Qe4,Rf2+,Kc1,Qa5,Qxe7', 'Qd2+,Kb1,Qxb2#', 'https://lichess.org/training/Ub2DY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uB2Li', 'Blitz', 'baco14', 2229, 'diamondOTF', 1755, 'd4,e5,dxe5,f6,exf6,Nxf6,Nf3,Bc5,e3,d6,Bd3,Bg4,Be2,Nc6,c3,Qd7,O-O,O-O-O,Nbd2,h5,Nd4,Bxe2,Qxe2,h4,h3,g5,Qd3,g4,hxg4,Qxg4,Qf5+,Qxf5,Nxf5,h3,g3,Ng4,Nf3,Nce5,Nh2,Rdf8,Nd4,Rf6,f4,Nd3,Rf3,d5,Nxg4,h2+,Kh1,Rg6,Ne5,Rxg3,Rf1', 'Nf2+,Rxf2,Rg1#', 'https://lichess.org/training/uB2Li');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uB42H', 'Classical', 'askar13511351', 2074, 'Ethan_15', 2000, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,a3,a5,Be2,O-O,O-O,Ngxe5,Nbd2,Ra6,Nb3,Ba7,c5,Nxf3+,gxf3,d6,Bxa6,Bh3,f4,bxa6,Re1,Qh4,Qf3,a4,Nd2,Ne7,cxd6,cxd6,Ne4,Nf5,Ng5,Bg4,Qg2,Nh6,Bd2,Qh5,f3,Bd7,Bc3,f6,Ne4,Nf5,Nxf6+,Rxf6,Bxf6,g6,Bd4,Nh4,Bxa7,Nxg2,Kxg2,Bh3+,Kg3,Bd7,h4,g5,fxg5,h6,Rg1,hxg5,hxg5,Qh3+,Kf2,Qh2+,Rg2,Qh4+,Ke2,Bb5+,Kd2,Qc4,Rd1,Qd5+,Kc1,Qc6+,Kb1,Qxf3,Rgd2,Qf5+,Ka1,Qxg5,Rxd6,Qe5,R6d5,Qe4,R5d4,Qc2,R4d2,Qb3,Bd4,Bc4,Kb1,Qa2+,Kc1', 'Qa1+,Kc2,Bb3+,Kc3,Bxd1', 'https://lichess.org/training/uB42H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uB4RW', 'Rapid', 'kharboucha', 1640, 'dimu1112', 1661, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,f4,Qa5,Ne2,Nc6,a3,cxd4,Nxd4', 'Bxc3+,bxc3,Qxc3+,Bd2,Qxd4', 'https://lichess.org/training/uB4RW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UB779', 'Rapid', 'krim-UA', 1705, 'Mardofff', 1652, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Na5,Be2,Nf6,a3,Nc6,O-O,O-O,h3,Bd4,Nd5,Nxe4,Nxd4,Nxd4,Bd3,Nf6,Ne3,d5,f4,e4,Be2,c5,d3,a5,dxe4,Nxe4,Bg4,f5,Bf3,Qh4,Nxd5,Be6,Nc7,Rac8,Nxe6,Nxe6,Bxe4,fxe4,f5,Nd4,c3,Nxf5', 'Qd5+,Kh8,Rxf5,Qe1+,Kh2', 'https://lichess.org/training/UB779');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UB7EP', 'Blitz', 'marykaeood', 1864, 'doppelkopf74', 1912, 'e4,c5,Nf3,e6,d4,cxd4,c3,dxc3,Nxc3,d6,Bd3,Nc6,a3,Nf6,O-O,Be7,h3,O-O,Be3,a6,Qd2,b5,b4,Bb7,Rad1,Rc8,Ne2,Nd7,Ng3,Nde5,Nxe5,Nxe5,Be2,Nc4,Bxc4,Rxc4,Qd3,Qa8,f3,Rfc8,Bd4,Bh4,Nh5,e5,Ba1,Be7,Ng3,Qa7+,Kh1,Rc2,Nf5,Bf8,Nxd6,R8c6,Nf5,Qb8,Qd8,Rc8,Qg5,f6,Qg3,Qc7,h4,Re2,Rf2,Qc2,Rxe2,Qxe2,Rd7,Rc1+,Kh2,Qf1', 'Rxg7+,Bxg7,Qxg7#', 'https://lichess.org/training/UB7EP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UB8Lu', 'Rapid', 'vaklesgyorgy', 2093, 'BORYA-BORYA', 1975, 'b3,c5,Bb2,e6,e3,b6,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Bxd4,Bb7,Be2,Qg5,Bf3,Bxf3,Qxf3,Rc8,c4,Nf6,Nd2,Bb4,O-O-O,Ba3+,Bb2,Bxb2+,Kxb2,Qe5+,Kb1,O-O,Qf4,Qc3,Ne4,Nxe4,Qxe4,d5,Rc1', 'Qxc1+,Kxc1,dxe4', 'https://lichess.org/training/UB8Lu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubAa6', 'Classical', 'yousrywesa', 1799, 'jamettle', 1671, 'd4,e6,Nf3,d5,h3,c5,e3,Nc6,Bd2,Qb6,c3,Nf6,Qc2,Ne4,Bd3,f5,Ne5,Bd6,Nxc6,Qxc6,dxc5,Bxc5,O-O,O-O,c4,d4,exd4,Bxd4,Nc3,e5,Nxe4,fxe4,Bxe4,Qc5,a3,Bxf2+,Kh1,Be6,Bb4,Qe3,Bxh7+,Kh8,Bxf8,Rxf8,Bd3', 'Bxh3,Rxf2,Rxf2,Qxf2,Qxf2', 'https://lichess.org/training/ubAa6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uBAOy', 'Rapid', 'peruvian2014', 2088, 'jp-savvas', 2089, 'd4,Nf6,Bf4,e6,e3,d5,Bd3,c5,c3,Bd6,Bg3,Nc6,Nf3,O-O,Nbd2,cxd4,exd4,Re8,Ne5,Qc7,Ndf3,h6,Qe2,Nh5,Nxc6,bxc6,Bxd6,Qxd6,Ne5,Nf4,Qf1,Nxd3+,Qxd3,c5,O-O,cxd4,cxd4,a5,Rfc1,Ba6,Qf3,Qe7,h3,Rec8,Rc6,Bb5,Rxc8+,Rxc8,Rd1,Rc2', 'Qb3,Qc7,Qxb5', 'https://lichess.org/training/uBAOy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UbCmN', 'Rapid', 'milan-sdl', 1980, 'Lauwtje', 1945, 'e4,e6,d4,d5,exd5,Qxd5,Nf3,Nf6,Bd3,b6,c4,Bb4+,Bd2,Bxd2+,Nbxd2,Qd8,O-O,O-O,Ne4,Bb7,Nxf6+,Qxf6,Be2,Rd8,Qa4,Nc6,Rad1,Nxd4,Nxd4,Rxd4,b3,Qg6,f3,Qf6,Kh1,Qe5,Rxd4,Qxd4,Rd1,Qf2,Qxa7,Qxe2', 'Qxa8+,Bxa8,Rd8#', 'https://lichess.org/training/UbCmN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubcnP', 'Rapid', 'fselpo', 1627, 'AdewaleA', 1633, 'd4,d5,Nf3,Nc6,e3,Bf5,c3,e6,Bd3,Bg4,Nbd2,Nf6,e4,dxe4,Nxe4,Be7,Nxf6+,Bxf6,Be4,O-O,Qc2,Bf5,Bxf5,exf5,Qxf5,Re8+,Be3,g6,Qc2,Na5,b3,c5,O-O,cxd4,Nxd4,Rc8,Rad1,Bxd4,Bxd4,Qh4,c4,Nc6,Be3,Ne5,h3,b6,Qc3,Qf6,Bd4,Qg5,Rfe1,f6,Rd3', 'Nxd3,Rxe8+,Rxe8', 'https://lichess.org/training/ubcnP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ubcsi', 'Rapid', 'daedalus1', 1678, 'ronniak2', 2004, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Nxc6,bxc6,c3,Nf6,Bd3,O-O,O-O,a5,f4,d5,f5,dxe4,Bc2,Bxf5,Nd2,Ng4,Bc5,Qc7,g3,Rfd8,Qe2,e3,Ne4,Bxe4,Bxe4,Rd2,Qxg4,Rxb2,Bxe3,Bxc3,Rad1,f5,Bxf5,Qe5,Be6+,Kg7,Bd4,Bxd4+,Qxd4,Qxd4+,Rxd4,Rf8,Rdf4,Rxf4,Rxf4,Re2,Rf7+,Kh6,Bb3,e5,Re7,e4,Bc4,Re1+,Kg2,e3,Kf3,Rh1,h4,Rc1,Bb3,a4,Bxa4,c5,Rxe3,c4,Bb5,c3,Re2,c2,Bd3', 'Rf1+,Rf2,Rxf2+', 'https://lichess.org/training/Ubcsi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubDKx', 'Classical', 'alfiererosso', 1624, 'OzzieNDB', 1689, 'c4,e5,Nc3,Bc5,g3,Qf6,e3,Ne7,Bg2,d6,Nge2,O-O,O-O,Nbc6,a3,Bg4,f3,Bf5,b4,Nxb4,axb4,Bxb4,Nb5,c6,Na3,Bd3,Re1,Bxa3,Rxa3,Bxc4,d3,Bd5,e4,Be6,Bb2,d5,Nc3,d4,Na2,a5,Qc2,Ng6,Qc5,Qd8,Bc1,Qc7,Bd2,b6,Qc2,b5,Nc1,b4,Ra1,c5,Nb3,a4,Qxc5,Qb7,Qxb4,Qxb4,Bxb4,Rfb8,Nc5,Rxb4,Nxe6,fxe6,Rec1,a3,Ra2,Rb2,Rca1,Rb3,Bf1,Ne7,Be2,Nc8,Rc2,Rb2,Bd1,Rxc2,Bxc2,Nd6,Bb3,Nb5,Bxe6+,Kf8,Bc4,Nc3,Kf1,Ke7,Ke1,h5,Kd2,Rb8,Rxa3', 'Nb1+,Ke1,Nxa3', 'https://lichess.org/training/ubDKx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uBEvH', 'Classical', 'Bizedemilolo', 1662, 'dpsmith90', 1648, 'e3,e5,d4,e4,Nc3,d5,Nge2,Nf6,g3,Bb4,a3,Bxc3+,Nxc3,c6,Bg2,O-O,O-O,Be6,a4,Nbd7,a5,a6,Ne2,Bg4,h3,Bxe2,Qxe2,b6,Bd2,b5,Bb4,Re8,b3,Qc8,Rac1,c5,dxc5,Nxc5,Rfd1,Ncd7,Kh1,Ne5,Qe1,Nf3,Bxf3', 'Qxh3+,Kg1,exf3', 'https://lichess.org/training/uBEvH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubfJK', 'Rapid', 'shreyara', 1752, 'Nikhil_kiran', 1957, 'e4,e5,d4,d6,Nf3,exd4,Nxd4,Nf6,Nc3,c5,Ndb5,a6,Na3,b5,Nab1,Bb7,Qf3,Qe7,Qe3,b4,Nd5,Bxd5,exd5,Qxe3+,Bxe3,Nxd5,Bc4,Nxe3,fxe3,Be7,O-O,O-O,Rf3,Nc6,Bd3,g6,Be4,Rac8,Bxc6,Rxc6,c3,bxc3,Nxc3,f5,Rh3,Bf6,Nd5,Kg7,Nxf6,Rxf6,Rf3,d5,Rd1,d4,exd4,cxd4,Rxd4,Rc1+,Rf1,Rxf1+,Kxf1,h5,Ra4,g5,Ke2,f4,Kf3,g4+,Ke4', 'f3,gxf3,gxf3,Rd4,f2', 'https://lichess.org/training/ubfJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ubh6M', 'Classical', 'MrDeeJay', 2097, 'bmx81', 1869, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bg5,O-O,Qd2,Re8,Bh6,Bh8,h3,c5,d5,a6,Bd3,Nbd7,O-O,b5,Rfe1,Bb7,Rab1,c4,Bf1,Nc5,b4,cxb3,axb3,b4,Na4,Nfxe4,Rxe4,Nxe4,Qxb4,Bxd5,c4,Be6,Qe1,Nc5,Nxc5,dxc5,Ne5,Qc7,Nf3,Red8,Ng5,Bf5,Ne4,Qc6,f3,Bd4+,Kh1,Rab8,Qh4,Rb7,Bd3,Rdb8,Bf4,Rd8,Ng5,h5,Bxf5,gxf5,Qxh5,Qg6,Qh4,Bf6,Qg3,Bxg5,Qxg5,Qxg5,Bxg5,Rd3,Ra1,Rdxb3,Rxa6,R3b4,Ra8+,Kh7,Re8,e6,Bf6,Kg6,Be7,Rxc4,Kh2,Kg7,g4,fxg4,hxg4,Rc2+,Kg3,c4,f4,Rb3+,Kh4,Rh2+,Kg5,Rh6', 'Bf8+,Kh7,Bxh6', 'https://lichess.org/training/Ubh6M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UbHS0', 'Classical', 'Djovani', 1774, 'latislavo', 1796, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nf6,d3,Be7,Be2,O-O,O-O,c5,Bg5,a6,d4,c4,Ne5,b5,Bf3,Bb7,a4,Nbd7,axb5,axb5,Nxb5,Ba6,Nc3,Bb7,Nxd7,Nxd7,Bxe7,Qxe7,Nxd5,Qd6,Ne7+,Qxe7,Bxb7,Rab8,Re1,Qb4,Bc6,Nf6,Rb1,Rbc8,c3,Qb6,Bf3,Rfe8,Qc2,Rb8,Rxe8+,Nxe8,Bd5,Qb5,Qe2,Qxd5,Re1,Kf8', 'Qe7+,Kg8,Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/UbHS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uBKYQ', 'Blitz', 'fsik', 2028, 'schachmatyTV', 2117, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,c6,e3,Nbd7,Bd3,Be7,Nge2,O-O,O-O,Re8,Qc2,Nf8,Bxf6,Bxf6,b4,a6,a4,Be7,b5,a5,bxc6,bxc6,Nf4,Bd6,Nce2,Bd7,Bf5,g6,Bxd7,Qxd7,Rfc1,Rac8,Nd3,Ne6,Qc3,Ng5,Qxa5,Qg4,Ng3,h5,h3,Qh4,Ne5,Rxe5,dxe5,Bxe5,Qa6,Rb8,Rab1,Bxg3,fxg3,Qxg3,Rxb8+,Qxb8,Qxc6,Qg3,Qe8+,Kg7,Rc8', 'Nf3+,Kf1,Qe1#', 'https://lichess.org/training/uBKYQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UbL1e', 'Rapid', 'memoplus', 1821, 'rhuanbraga13', 1996, 'e4,c5,c3,d6,d4,Nf6,f3,cxd4,cxd4,e6,Bd3,Nc6,Be3,Be7,Ne2,a6,a3,h6,b4,b5,Nbc3,Bb7,O-O,O-O,Qd2,Re8,g4,Nh7,Kg2,Bg5,f4,Be7,Ng3,Rc8,Kf2,Qc7,Rac1,Bh4,Rg1,Qd7,Be2,Ne7,Bf3,d5,e5,Rc6,Ne2,Rec8,Rxc6,Rxc6,Rc1,Rxc1,Qxc1,Qc6,Qxc6,Nxc6,Nc3,Nf8,Kg2,Ng6,Nge2,f5,gxf5,Nge7,fxe6,Nd8,Nc1,Nf5,e7', 'Nxe3+,Kg1,Bxe7', 'https://lichess.org/training/UbL1e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubLCN', 'Rapid', 'Mohamad1Hafez', 1802, 'NdangizaNtare', 1684, 'd4,d5,c4,dxc4,Nc3,b6,e4,Bb7,Bxc4,e6,Bd3,Qxd4', 'Bb5+,Qd7,Bxd7+', 'https://lichess.org/training/ubLCN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ublfy', 'Rapid', 'Amil2011', 1814, 'siliwang', 2145, 'd4,c5,d5,e5,c4,d6,Nc3,f5,e4,Nf6,exf5,Bxf5,Bd3,e4,Qe2,Qe7,Bc2,Nbd7,Bg5,h6,Bh4,g5,Bg3,Bg7,Nb5,Ne5,Bxe5,dxe5,d6,Qd7,Nc7+,Kf7,Nxa8,Rxa8,Rd1,Rd8,h3,Qc6,Rh2,Rxd6,Rxd6,Qxd6,g4,Bg6,Qd2,Qd4,Ne2,Qxc4', 'Bb3,Qxb3,axb3', 'https://lichess.org/training/Ublfy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UBLnw', 'Blitz', 'niewyzyty17', 2388, 'FM Eloist', 2405, 'Nc3,d5,e4,d4,Nce2,e5,Nf3,Bd6,Ng3,h5,h4,Nf6,Ng5,Bg4,f3,Bd7,Bc4,O-O,d3,Nc6,a3,Ne7,Bd2,Ng6,Qe2,Nf4,Qf2,b5,Ba2,c5,Ne2,g6,Nxf4,exf4,O-O,Kg7,Rfe1,Be5,Rad1,Nh7,Nxh7,Kxh7,c3,Bf6,Bxf4,dxc3,e5,Bxh4,g3,Be7,bxc3,Be6,Bb1,Kg7,d4,Bb3,Rd2,cxd4,cxd4,Bxa3,Qe3,Bb4,Qxb3,Bxd2,Bxd2,a6,Qe3,Qb6,Bc3,Rfd8,Be4,Rac8,Rd1,b4,Bb2,a5,e6,f6,Kg2,a4,Qf4,a3,Ba1,b3,d5,b2,e7,Re8,d6,bxa1=Q,Rxa1,Qb2+,Kh3,Qxa1,Qd2,Qe5,d7,Qxe7,dxc8=Q,Rxc8,g4,hxg4+,fxg4,Qxe4,Qd7+,Kh6,Qxc8,Qe3+,Kg2,Qe2+,Kg3,a2', 'Qh8+,Kg5,Qh4#', 'https://lichess.org/training/UBLnw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uBlyF', 'Classical', 'XFINALX', 1688, 'tedde', 1648, 'd4,d5,Nf3,Nf6,c4,Bg4,Ne5,Bf5,Qa4+,Nbd7,cxd5,b6,Bg5,Nxd5,Nc3,Nxc3,bxc3,f6,Nxd7', 'Bxd7,Qb3,fxg5', 'https://lichess.org/training/uBlyF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uBM8q', 'Blitz', 'ponchorello', 1729, 'theunthinkable', 1626, 'd4,d5,Nf3,e6,c4,Be7,Nc3,Nf6,Bf4,O-O,Ne5,c5,e3,cxd4,exd4,dxc4,Bxc4,Nc6,Nxc6,bxc6,Qa4,Bd7,Bd3,c5,Qc2,cxd4,Ne2,Nd5,Be5,Bf6,Bxd4,Bxd4,Nxd4,e5,Nf3,Re8,Be4,Be6,O-O,Rc8,Qd3,Qb6,Bxd5,Bxd5,Qxd5,Qxb2,Nxe5,Rxe5,Qd7,Rce8,Rfb1', 'Qxb1+,Rxb1,Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/uBM8q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubMI1', 'Blitz', 'eliasnader1969', 2207, 'MarineLePen_FR', 2323, 'c4,Nf6,Nc3,e6,e4,d5,e5,Nfd7,d4,c6,Qg4,dxc4,Bxc4,b5,Bb3,a5,Nf3,a4,Bc2,Na6,O-O,Nb4,Bb1,Bb7,Ne4,Qb6,Nd6+,Bxd6,Qxg7,O-O-O,exd6,Rhg8,Qh6,c5,dxc5,Bxf3,cxb6', 'Rxg2+,Kh1,Rg4#', 'https://lichess.org/training/ubMI1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UBnAe', 'Blitz', 'Avatarhood', 1830, 'babaei', 1672, 'e4,e6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Bc5,Nc3,Qh4,Be3,Nc6,Bb5,Bxd4,Qxd4,Qxd4,Bxd4,Bd7,Bxc6,bxc6,Na4,Ne7,Bc5,Nf5,O-O,d4,c3,Rb8,Rab1,dxc3,Nxc3,a5,Rfd1,h5,Na4,Rb5,Bd6,Nxd6,exd6,O-O,Rd2,e5,Nc3,Rbb8,b3,c5,Nd5,Kh7,Rbd1,Bg4,f3,Be6,Ne7,Bd7,Rd5,f6,Rxc5,a4,bxa4,Rb4,a5,Ra4,Rd2,Kh6,Rc7,Rd8,Rc5,e4,Kf2,exf3,gxf3,g5,Nd5,g4,Nxf6,gxf3,Nxd7,Rxd7,Kxf3,Rf7+,Kg3', 'Rg4+,Kh3,Rf3#', 'https://lichess.org/training/UBnAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uboHB', 'Rapid', 'FrancescXPM', 1695, 'gergobacsi', 1676, 'Nf3,d5,d4,Nf6,e3,Bg4,Be2,Nc6,c3,e6,Nbd2,Bd6,O-O,Qd7,Re1,e5,dxe5,Nxe5,Nxe5,Bxe2', 'Nxd7,Bxd1,Nxf6+', 'https://lichess.org/training/uboHB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UBOKU', 'Blitz', 'Imay1', 1889, 'matzeR272', 1940, 'e4,e5,f4,Bc5,fxe5,Qh4+,g3,Qxe4+,Qe2,Qxh1,Nf3,Ne7,d4,Bb6,Be3,d6,Nbd2,Nf5,O-O-O,Nxe3,Qxe3,O-O,Bh3,Qxd1+,Kxd1,Bxh3,c3,Bg4,exd6,cxd6,Qf4,Bxf3+,Nxf3,Bc7,d5,Nd7,Qh4,h6,g4,Ne5,Nd4,Ng6,Qh5,Rae8,h4,Re5,g5,hxg5,hxg5,Rxd5,Kc2,Bd8,Qf3,Rxg5,Qxb7,Bb6,Nc6,Ne5', 'Ne7+,Kh7,Qh1+,Rh5,Qxh5#', 'https://lichess.org/training/UBOKU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UbP9P', 'Classical', 'RosanC', 1964, 'ProXxxxxx', 2127, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Nc3,Bb4,Bd2,O-O,O-O-O,Re8,Bd3,d5,Qg3,Bd6,f4,dxe4,Bb5,Bd7,Nge2,Ne7,Bxd7,Qxd7,h3,b5,Be3,b4,Nd5,Nfxd5,Bd4,Nf5,Qg4,h5,Qxh5,Nxd4,Rxd4,g6,Qh4,f5,Rxd5,Qe6,Rhd1,Red8,Kb1,Kg7,g4,fxg4,hxg4,Rh8,Qg5,Qf6,Qxf6+,Kxf6,g5+,Kg7,Ng3,Rad8,Nxe4,Be7,b3,Rhf8,Nf6,Bxf6', 'gxf6+,Rxf6,Rxd8', 'https://lichess.org/training/UbP9P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubpKD', 'Blitz', 'CM NowInChess', 2248, 'Kuchuk22', 1957, 'e4,e6,d4,d5,exd5,exd5,c4,Be6,Nc3,Nf6,Nf3,Bb4,Bg5,Nbd7,Bxf6,Nxf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/ubpKD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UBPUW', 'Rapid', 'Chechai', 2056, 'antonmarcus', 2064, 'e4,e5,Nf3,d5,d3,dxe4,Ng5,exd3,Bxd3,h6,Bb5+,c6', 'Qxd8+,Kxd8,Nxf7+', 'https://lichess.org/training/UBPUW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubQT5', 'Rapid', 'mitsuartemius', 1623, 'quadrupede', 1623, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nc3,Bb4,a3,Bxc3+,bxc3,Qxe4+,Be2,Qxg2,Rf1,Nf6,Bf4,O-O,Qd3,Re8,O-O-O,d6,Rg1,Qd5,Nf5,Bxf5,Qxd5,Nxd5,Rxd5,Bxc2,Bc4,Be4,Rdg5,Bg6,h4,h5', 'Rxg6,Kf8,Rxg7', 'https://lichess.org/training/ubQT5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uBqWv', 'Rapid', 'muhyamin', 1810, 'matago90', 1805, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,e5,Ng4,Bc4,Qd4,Qe2,Bc5,O-O,Nxh2,Kxh2,Qh4+,Kg1,Bg4,Qd3,Rd8,Qb3,O-O,e6,Bd6,g3,Qh5,exf7+,Kh8,d4,Bf3,Qxf3,Qxf3,b3,b5,Bd3,Rxf7,Be3,Bxg3,Nd2,Bxf2+,Rxf2,Qxe3,Rf1,Rxf2,Rxf2,Rd6,Ne4,Rg6+,Kf1,Kg8,a4,bxa4', 'Bc4+,Re6,Bxe6+,Kh8,Rf8#', 'https://lichess.org/training/uBqWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uBrXt', 'Blitz', 'adamc2005', 2291, 'CM sodabread', 2271, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,Be7,d4,Nf6,Nxf6+,Bxf6,Bd3,O-O,h4,g6,h5,Nd7,hxg6,hxg6,c3,Re8,Bf4,Bh8,Qd2,Nf6,Be5,Bd7,O-O-O,Bg7,Ng5,Bc6,Qf4,Qe7,Rh3,Nd5,Qh4,f6,Qh7+,Kf8,Qxg6,fxg5,Rdh1,Nf6,Rh8+,Ng8,Rxg8+,Kxg8,Rh8+,Kxh8', 'Qh7#', 'https://lichess.org/training/uBrXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubs5D', 'Rapid', 'Schachfreund93', 2120, 'maxdcaplan', 2013, 'c4,f5,Nf3,Nf6,g3,g6,Bg2,Bg7,Nc3,d6,d4,O-O,O-O,Qe8,d5,Na6,Nd4,Nc5,Ne6,Nxe6,dxe6,Bxe6,Bxb7,Rb8,Bd5,Nxd5,cxd5,Bd7,Qc2,Qf7,Rd1,h6,Be3,a5,b3,g5,Bd4,f4,Bxg7,Kxg7,Rf1,Bf5,Qd2,Bh3,Qd4+,Kg8,Rfe1,Rb4,Qa7,fxg3,hxg3,Qxf2+', 'Qxf2,Rxf2,Kxf2', 'https://lichess.org/training/ubs5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UbsiI', 'Rapid', 'yousef1234', 1799, 'Shadow_Fighter', 2028, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,c4,a6,cxd5,axb5,dxc6,Bxc6,O-O,h5,d4,b6,Nc3,Nh6,Be3,Nf5,Bf2,b4,d5,Bxd5,Nxd5,Qxd5,Qe2,Qc6,Rfc1,Be7,h3,h4,a3,bxa3,bxa3,g6,Nd2,Kf8,Ne4,Kg7,Nf6,Bxf6,exf6+,Kxf6,Qe5+,Ke7,Rxc5,bxc5,Bxc5+,Kd7', 'Rd1+,Kc8,Qxh8+', 'https://lichess.org/training/UbsiI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubsUP', 'Rapid', 'Kosolapov1', 1671, 'pippok', 1660, 'e4,e5,Bc4,d6,h3,c5,Nf3,h6,d3,Nf6,a3,Nc6,Nc3,Be7,Nd5,Nh7,Bd2,O-O,g4,Bg5,Qe2,Bxd2+,Qxd2,Ng5,Nxg5,Qxg5,Qxg5,hxg5,O-O-O,a6,Rdg1,b5,Bb3,Nd4,h4,Ne2+,Kd1,Nxg1', 'Ne7+,Kh8,hxg5+,Nh3,Rxh3#', 'https://lichess.org/training/ubsUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uBtjD', 'Blitz', 'kolnierz', 1727, 'aakdari', 1732, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nc3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Bc5,Re1+,Kf8,Nf3,Nc6,Bg5,Qf5,Bxf6,Qxf6,Nxd5,Qxb2,Nc7,Rd8', 'Qxd8+,Nxd8,Re8#', 'https://lichess.org/training/uBtjD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubtqM', 'Classical', 'venkata722', 1808, 'isaacyauri', 1725, 'd4,d5,c4,dxc4,Nc3,Nf6,e3,e6,Bxc4,Be7,Nf3,O-O,O-O,Nc6,a3,a6,Qc2,Na5,Bd3,c5,Bd2,cxd4,Nxd4,Bd7,Rfd1,Rc8,Rac1,Qe8,Qb1,e5,Nf5,Nb3,Nxe7+,Qxe7,Rc2,e4,Be2,Rfd8,Qa2,Be6,Qb1,Nc5,Na2,Bb3,Rxc5,Qxc5,Bb4,Qb6,Rxd8+,Rxd8,Be7,Rd2,Qc1,Qc6,Qxd2,Bxa2,Qd8+,Ne8,Qd2,Qe6,Bb4,h6,Qd4,Nf6,f3,exf3,Bxf3,Bd5,Be2,Ne4,Bd3,f5,Ba5,Bc6', 'Bc4,Qxc4,Qxc4+', 'https://lichess.org/training/ubtqM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UbV0n', 'Classical', 'JulianTheToucan', 1677, 'Liaks', 1763, 'e4,e5,Nf3,Bc5,Bc4,d6,b4,Bxb4,c3,Ba5,d4,exd4,Nxd4,Nc6,O-O,Qh4,Nf3,Qg4,Re1,Ne5,Be2,Qe6,Nxe5,dxe5', 'Qa4+,Bd7,Qxa5', 'https://lichess.org/training/UbV0n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubVPC', 'Bullet', 'Hans56', 1931, 'DooMzd4y', 1909, 'e4,c5,Bc4,g6,Nc3,Bg7,d3,Nc6,Nge2,e6,a3,Nge7,Ba2,O-O,O-O,d5,f3,b6,Kh1,Bb7,Ng3,Nd4,f4,Qd7,Nce2,Nec6,c3,Nxe2,Qxe2,dxe4,dxe4,Na5,f5,exf5,exf5,Rfe8,Qg4,Qc6,Rg1,Rad8,fxg6', 'Qxg2+,Rxg2,Re1+,Nf1,Rxf1#', 'https://lichess.org/training/ubVPC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uBx5T', 'Classical', 'CuprumS', 1872, 'pilipa', 1851, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Bf5,Nf3,e6,O-O,Be7,Qb3,b6,Nc3,O-O,Ne5,Nfd7,f4,Nxe5,fxe5,c5,d5,Nd7,dxe6,fxe6,Bxe6+,Bxe6,Qxe6+,Kh8,Nd5,Re8,Rf7,Nf8,Qg4,Ng6,e4,Rf8,e6,Rxf7,exf7,Ne5,Qe6,Ng6,Nxe7,Qxe7,Qxe7,Nxe7,Bg5,Ng6,Rd1,Rf8,Rd7,Ne5,Be7', 'Nxd7,Bxf8,Nxf8', 'https://lichess.org/training/uBx5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uBYaH', 'Rapid', 'Johanneken', 1812, 'mini_momo_Klaus', 1858, 'd4,d5,Nf3,Nf6,e3,Bf5,c4,e6,Nc3,c6,cxd5,exd5,b3,Nbd7,Bd3,Bb4,Qc2,Ne4,Bd2,Nxd2,Nxd2,Qa5,Bxf5,Bxc3,Bxd7+,Kxd7,Rd1,Rae8,O-O,Bxd2,Qxd2,Qxd2,Rxd2,Re6,Rc1,b5,Rdc2,Rhe8,g3,h5,h4,Rf6,a3,Ree6,Kg2,a5,b4,a4,Rc3,Rf5,R3c2,g5,hxg5,Rxg5,Rh1,Rh6,Rh4,Rg4,f3,Rxh4,gxh4,Rg6+,Kh3,f5,Rg2,Rxg2,Kxg2,Ke6,Kg3,Kf6', 'Kf4,c5,dxc5', 'https://lichess.org/training/uBYaH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UByDT', 'Classical', 'Malfitani', 1609, 'Turbss', 1634, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Qf3,e6,Nc3,Ne7,Bg5,O-O,Rfd1,d5,exd5,cxd5,Bxd5,exd5,Nxd5,f6', 'Nxf6+,Bxf6,Rxd8', 'https://lichess.org/training/UByDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubyjT', 'Rapid', 'Chase344', 2043, 'mustafaaclk', 1970, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,e4,e5,Nge2,d6,O-O,Nc6,Rb1,a5,a3,Nh5,d3,f5,f4,Be6,Qc2,Qd7,b4,axb4,axb4,fxe4,Bxe4,Bh3,Rf2,Nf6,Bg2,Bxg2,Kxg2,Ng4,Rf1,exf4,Nxf4,Nd4,Qd1,Bh6,h3,Bxf4,Rxf4,Rxf4,Bxf4,Ne5,Bxe5,dxe5,Ne4', 'Ra2+,Qd2,Rxd2+', 'https://lichess.org/training/ubyjT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ubZmk', 'Rapid', 'MrShooko', 2080, 'penefacio', 2066, 'e4,c5,Nf3,Nf6,e5,Nd5,c4,Nc7,Nc3,d5,Be2,d4,Ne4,d3,Bf1,Nc6,Nxc5,Bf5,Qb3,Nd4,Qa4+,b5,Qa5,Nc2+,Kd1,bxc4,Qa4+,Bd7,Qxc4,Bb5,Qb3,Nd4,Nxd4,Qxd4,Nxd3', 'Ba4,Qxa4+,Qxa4+', 'https://lichess.org/training/ubZmk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uc0Ac', 'Rapid', 'MOsalama', 1692, 'ReneAldauc', 1688, 'd4,d5,Nf3,e6,e3,Bd6,b3,Bd7,Bb2,Qe7,Bd3,f5,O-O,Nc6,a3,a6,b4,Na7,Nbd2,b5,Ne5,Bxe5,dxe5,Nh6,f4,g6,Nb3,Nc8,Bd4,Kf7,g3,Nb6,Bc5,Qd8,Bd4,Nc4,Bxc4,dxc4,Nc5,Bc6,c3,Qd5,Kf2,Ng4+,Ke1,Nxh2,Rf2,Ng4,Re2,h5,e4,fxe4,Nxe4,h4,Qc2,hxg3,Ng5+,Kg7,Bg1,Rad8,Rd1,Qxd1+,Qxd1,Rxd1+,Kxd1,Rh1,Nxe6+,Kf7,Ng5+,Kg7,Ne6+,Kh6,Re1,Nf2+,Bxf2,gxf2', 'Rxh1+,Bxh1,Ke2,f1=B+,Kxf1', 'https://lichess.org/training/Uc0Ac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uc0av', 'Blitz', 'mohammedarrami', 2237, 'Since_Vuttor', 2232, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Nd7,Qe2,e6,d4,Ngf6,Nxf6+,Nxf6,Bg5,Be7,Qd3,h6,Bh4,O-O,Be2,c5,dxc5,Bxc5,Qxd8,Rxd8,Bxf6,gxf6,O-O,Bd7,Rad1,Bc6,Nh4,Bd5,c4,Bc6,Bf3,Kg7,Bxc6,bxc6,Nf3,Rab8,b3,Kg6,g3,Kf5,Kg2,h5,Nh4+,Kg5,f4+,Kh6,Nf3,Kg6,Rfe1,a5,Nd2,Bb4,Re2,Kf5,a3,Bxa3,Rde1,Bb4,Nf3,Bxe1,Rxe1,Rxb3', 'Nh4+,Kg4,h3#', 'https://lichess.org/training/uc0av');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uC2Qj', 'Blitz', 'zocimo_orozco', 1804, 'avinashdante', 1885, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,f3,Nf6,Bg5,Bb4,Bxf6,gxf6,Qd3,Nc6,Ne2,Ne5,Qd1,Nc4,Qc1,b5,a3,Bc5,Qh6,Bb7,Qxf6,Rf8,O-O-O,Be7,Qg7,O-O-O,Qxh7,Ne3,Rd2,Bg5,f4,Bf6,e5,Be7,Qd3,Bc5,Nd4,Nxf1,Qxf1,d6,Nb3,Be3,Qe2,Bxd2+,Nxd2,dxe5,fxe5,Rg8,Nde4,Rd4,Nd6+,Rxd6,exd6,Qxd6,Qf2,Rxg2,Qxf7', 'Qd2+,Kb1,Qxc2+,Ka1,Qxb2#', 'https://lichess.org/training/uC2Qj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uc3GL', 'Rapid', 'NT86', 1746, 'piechess97', 1807, 'Nf3,Nf6,d4,g6,e4,d6,Bc4,Bg7,Bxf7+,Kxf7,Ng5+,Ke8,Nc3,h6,Nf3,Kf7,Nh4,Rf8,O-O,e6,Qf3,Nd7,Qg3,g5,Nf3,Kg8,Bxg5,hxg5,Nxg5,Nb6,f4,Nc4,Qh4,Qe8,e5,dxe5,fxe5,Nh5,Rxf8+,Kxf8,Rf1+,Kg8,Nce4,Qg6,Nf6+,Bxf6,exf6,Ne3,f7+,Kf8,Rf2,Nf5,Qg4,Nf6,Qf4,Nh7,Nxh7+,Qxh7,g4,Nd6,c4,Nxc4', 'Qxc7,Qb1+,Rf1', 'https://lichess.org/training/uc3GL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UC3hQ', 'Rapid', 'aaalperr', 1623, 'Bogdan_271051', 1623, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Nf6,d3,h6,Nc3,Be7,O-O,O-O,f5,Na5,Bb5,c6,Ba4,b5,Bb3,Nxb3,axb3,d5,Nxe5,b4,Nxc6', 'Qb6+,d4,Qxc6', 'https://lichess.org/training/UC3hQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UC3Ol', 'Classical', 'yessimus', 1817, 'Spostapezzi', 1828, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bf5,c3,e6,Be2,Be7,O-O,O-O,Ne5,Bg5,f4,Be7,Nd2,f6,Nec4,b5,Na3,Ne3,Qb3,Nxf1,Bxf1,Qd5,Qxd5,exd5,Nxb5,Na6,Na3,Rab8,Bxa6,Bxa3,bxa3,Rfe8,Kf2,Rb6,Be2,Rc6,Bb2,Rb8,Nb3,Rcb6,Re1,Bc2,Bf3,c6,Bd1,Bb1,Bc1,Bxa2,Nc5,Rb1,Be3,Kf7,g4,Bc4,Ba4', 'R8b2+,Bd2,Rxd2+', 'https://lichess.org/training/UC3Ol');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uc6Em', 'Rapid', 'Q7', 1736, 'zwartroodwit', 1907, 'd4,Nc6,c4,e5,e3,e4,g3,Bb4+,Bd2,Bxd2+,Nxd2,f5,Bg2,Nf6,a3,O-O,Ne2,d5,cxd5,Nxd5,Qb3,Na5,Qa2,Kh8,O-O,Be6,Qb1,b6,b4,Nb7,Nxe4,fxe4,Bxe4,Nf6,Bxb7,Rb8,Bg2,c5,Qc2,cxd4,Nxd4,Bd5,Rfd1,Bxg2,Kxg2,Qd5+,Nf3,Qh5,Rac1,Ng4,Qe4,Rxf3,Kxf3', 'Nf6+,Kg2,Nxe4', 'https://lichess.org/training/uc6Em');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UC7CP', 'Rapid', 'VuyisaM', 1931, 'ErenToChess', 2045, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,Nb5,Qb6,Qf3,a6,N5c3,Nc6,Be3,Bxe3,b3,Nd4,Qg3,Nxc2+,Kd1,Nxa1,fxe3,Ne7,Kc1,f5,Qxg7,Qxe3+,Kb2,Rg8,Qxh7,Nxb3,axb3,b5,exf5,exf5,Nd5,Qe5+,Nbc3,b4,Nxb4,a5,Nd5,Nxd5', 'Qxg8+,Ke7,Qxd5,Qxd5,Nxd5+', 'https://lichess.org/training/UC7CP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UC9WN', 'Blitz', 'Symbolic123', 1704, 'AndrewMatthews', 1692, 'c4,e5,Nc3,Nf6,e3,Bc5,d4,exd4,exd4,Bb4,Nf3,O-O,Be2,Ne4,Qc2,Re8,O-O,Nxc3,bxc3,Bf8,Ng5,g6,Nf3,b6,Bg5,f6,Bh4,Bb7,Rab1,Qe7,Rfe1,Bxf3,gxf3,Qf7,c5,Nc6,Qa4,bxc5,Bc4,Re6,Rxe6,dxe6,Qxc6,Qe8,Bxe6+,Kg7,Bxf6+,Kh6,Kh1,Qxc6,d5,Qa4,Rg1,Re8,Rg3,Rxe6', 'Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/UC9WN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uc9zy', 'Rapid', 'jd0858', 2145, 'Alkhateeb', 1967, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,O-O,e4,d6,c3,Nbd7,Be2,e5,dxe5,dxe5,O-O,c6,Qc2,Qc7,Rfe1,Nc5,Be3,Ne6,h3,Bd7,a4,b6,Nc4,Ne8,Red1,Rd8,b4,Bc8,Rxd8,Nxd8,Nfd2,Be6,b5,c5,a5,f5,f3,Rf7,axb6,axb6,Ra6,fxe4,fxe4,Nd6,Nxb6,Qb7,c4,Nc6,Ra8+,Nb8,Bxc5,Nc8,Rxb8,Qxb8,Nd5,Qb7,Nb3,Bxd5,cxd5,Nb6,Na5,Qc7,Nc6,Nd7,Bb4,Bh6', 'Ne7+,Rxe7,Qxc7', 'https://lichess.org/training/Uc9zy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCAC9', 'Rapid', 'Ecki1', 1744, 'ziroki', 1710, 'e4,c5,f4,e6,Nf3,Nc6,Nc3,d5,exd5,exd5,Bb5,Qc7,Ne5,Be6,O-O,O-O-O,f5,Nxe5,fxe6,fxe6,Qh5,Nf6,Rxf6,gxf6,d3,a6,Be8,Bg7,Nxd5,exd5,Ba4,b5,Bxb5,axb5,Bf4,Qe7,a4,b4,a5,Qf7,Qf5+,Nd7,a6,Qe7,Qxd5,Nb8,Qf3,Qa7,Qg4+,Rd7,Kh1,Re8,Qh5,Rde7,h3,Re1+,Rxe1,Rxe1+,Kh2,Qxa6,Qxh7,Re7,Qg8+,Kb7', 'Qxb8+,Kc6,Qd6+,Kb5,Qxe7', 'https://lichess.org/training/UCAC9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ucAPw', 'Rapid', 'Law999', 1802, 'akashlives', 1807, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,b3,Nf6,Bb2,Nc6,e3,e5,Nf3,Bb4,Be2,e4,Ng5,O-O,a3,Ba5,b4,Bb6,Ngxe4,Nxe4,Nxe4,Bf5,Ng3,Be4,Nxe4,Re8,Ng3,Qg5,O-O,Rad8,d4,Ne5,Qc2,Ng4,Bxg4,Qxg4,Rad1,Re6,Ba1,Rg6,Rc1,h5,f3,Qg5,Rce1,h4,Ne4,Qf5,Qf2,h3,g3,a5,g4,axb4,axb4,Qh5,Ng3,Qb5,Rb1,Re8,Nf5,Qxf5,Kh1,Qd5,Rfe1,Rxg4,e4,Rg2', 'exd5,Rxf2,Rxe8+', 'https://lichess.org/training/ucAPw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UcBCr', 'Rapid', 'RONIEL', 1887, 'sky58', 2132, 'f4,c5,e3,Nc6,b3,e5,Bb5,exf4,exf4,Nd4,Bd3,d5,Nf3,Nxf3+,Qxf3,Nf6,O-O,Be7,Bb2,O-O,Nc3,c4,Be2,d4,Ne4,Nxe4,Qxe4,cxb3,axb3,Bf6,Bd3,g6,Rf3', 'Re8,f5,Rxe4', 'https://lichess.org/training/UcBCr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCbk7', 'Rapid', 'tomtom12345', 1622, 'VMN91', 1655, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,h6,c4,Nf6,Nc3,Bb4,Bd3,d6,a3', 'Bc5,Qxc5,dxc5', 'https://lichess.org/training/UCbk7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCbsr', 'Rapid', 'ccm10', 1662, 'ivank97', 1696, 'e4,e5,Nf3,Bc5,Nc3,d6,Bc4,Bg4,O-O,Nf6,h3,Bh5,d3,h6,g4,Nxg4,hxg4,Bxg4,Na4,O-O,Nxc5,dxc5,Qe2,Qf6,Kg2,Qg6,Rg1', 'Bxf3+,Kxf3,Qxg1', 'https://lichess.org/training/UCbsr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCCI8', 'Rapid', 'Theodor_1', 1781, 'talmator', 1799, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nf3,d6,Bc4,Nf6,Nc3,O-O,Bg5,Bg4,h3,Bh5,g4,Bg6,Qe2,Bxe4,O-O-O,Bxf3,Qxf3,Ne5,Qf4,Nxc4,Qxc4,h6,h4,hxg5,hxg5,Nd7,Rh4,Qxg5+,Kb1,Qxh4,Nd5,Ne5,Qe4,Ng6,Rh1,Qxf2', 'Ne7+,Nxe7,Qh7#', 'https://lichess.org/training/UCCI8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UcCLb', 'Blitz', 'Adellabeeb', 1815, 'saeren', 1859, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,a3,d5,e5,a6,b4,b6,Nf3,Bd7,Nbd2,b5,Nb3,Nge7,Nc5,Nc8,Bd3,Be7,O-O,h6,h3,Nb6,Nh2,Nxd4,Qg4,Nf5,Bxf5,exf5,Qxg7,Rf8,Bxh6,Nc4,Rfe1,Be6,Nf3,a5,Nd4,Bxc5,Nxe6,fxe6,bxc5,Qe7,Qg6+,Kd7,Bxf8,Rxf8,f4,Qxc5+,Kh2,a4,Qg7+,Qe7,Qxe7+,Kxe7,h4,Kf7,g3,Kg6,Reb1,Rb8,Kh3,Kh5,Rb4,Ne3,Rab1,Rc8,Rxb5,Rc3,Rb6,Ng4,Rxe6,Nf2+,Kg2,Ne4,Rb8,Rxg3+,Kf1,Rf3+,Ke2,Rxf4,Rh8+,Kg4,h5,Kh4,h6,Rf2+,Ke3', 'f4+,Kd4,Rd2#', 'https://lichess.org/training/UcCLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uCel1', 'Classical', 'Edy60', 1614, 'CD_Digger', 1690, 'e4,d5,exd5,Nf6,d4,c6,dxc6,Nxc6,Nf3,Bg4,Bb5,Qa5+,Nc3,O-O-O,Bxc6,bxc6,Be3,e5,O-O,e4,h3,Bh5,g4,Bxg4,hxg4,exf3,Qxf3,Qc7,Bf4,Bd6,Bxd6,Rxd6,Qf5+,Kb7,Rfd1,g6,Qf3,h5,Nb5,Qd7,Nxd6+,Qxd6,gxh5,Rxh5,Qg3,Qd5,Qg2', 'Rg5,Qxg5,Qxg5+', 'https://lichess.org/training/uCel1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCfwS', 'Rapid', 'ThorFabian', 1645, 'romarina', 1824, 'e4,g6,Nf3,Bg7,d4,d6,Bc4,Nf6,Bg5,Nxe4,O-O,Nxg5,Nxg5,O-O,Bxf7+,Rxf7,Nxf7,Kxf7,Qf3+,Kg8,Nc3,Nc6,Rad1,Nxd4,Rxd4,Bxd4,Qd5+,e6,Qxd4,e5,Qd5+,Kg7,Re1,c6,Qe4,Bf5,Qe2,Qb6,b3,Qd4,Nd1,Rf8,Ne3,Be4,Rd1,Qc5,Nc4,d5,Nxe5,Qxc2,Rd2,Qc3,Ng4,Qc5,Kh1,Qd6', 'Qxe4,dxe4,Rxd6', 'https://lichess.org/training/UCfwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uchwg', 'Blitz', 'RYUGA__S', 1583, 'tawfik69', 1610, 'd4,e6,c4,Nc6,Nf3,g6,e3,Bg7,Nc3,h5,Bd3,Qf6,Ne4,Qe7,O-O,Nf6,Nc3,O-O,Qc2,Nb4,Qd1,c6,a3,Na6,Qc2,d6,Ng5,e5,Bxg6,fxg6,Qxg6,Be6,Nce4,Bf7', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/uchwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UChY4', 'Classical', 'ddrchf', 1986, 'kent0913', 1991, 'e4,e5,Nf3,Nf6,Bc4,Bc5,c3,d6,d3,O-O,h3,h6,O-O,a5,a4,Be6,Bxe6,fxe6,Qb3,Kh8,Qxe6,Nh5,Bxh6,Rf6,Qg4,Rxh6,Ng5,Qf6', 'Qc8+,Qf8,Qxf8#', 'https://lichess.org/training/UChY4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCidy', 'Rapid', 'DrXChessless', 1734, 'piyush_nadoda', 1661, 'g3,d5,d3,Nf6,Nd2,Bf5,Ngf3,g6,Bg2,Bg7,O-O,O-O,Nd4,Qd7,c3,e5,Nxf5,Qxf5,e4,Qh5,exd5,Qxd1,Rxd1,Rd8,c4,c6,Ne4,Nxe4,dxe4,cxd5,cxd5,Na6,Bg5,Rd7,Rd2,f6,Be3,Bf8,Bh3,Rd6,f4,Bh6,fxe5,Bxe3+,Kg2,fxe5,Rd3,Bd4,Be6+,Kg7,Rf1,Rf8,Rc1,Bxb2,Rc2,Bd4,Rb3,Nc5,Rf3,Nxe4', 'Rc7+,Kh6,Rxf8', 'https://lichess.org/training/UCidy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCIR0', 'Rapid', 'ggui76', 1948, 'ProChessNoob', 1981, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Qb6,Na4,Qa5+,c3,c4,b4,Nxb4,cxb4,Bxb4+,Kf2,b5,Nc5,Nxc5,dxc5,Qc7,Qd4,O-O,Bd2', 'Bxc5,Qxc5,Qxc5+', 'https://lichess.org/training/UCIR0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uCj0b', 'Blitz', 'sabyr1505', 1533, 'matek259', 1549, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,d6,c3,Nf6,Qf3,Bg4,Qf4,O-O,Nd2,Re8,Be2,Qe7,Bxg4,Bxd4,Bxd4,Nxd4,cxd4,Nxg4,Qxg4,Qf6,Nf3,Re7,O-O,Rae8,Rfe1,c6,Qg3,b6,e5,dxe5,dxe5,Qf5,Re2,f6,Rae1,fxe5,Rxe5,Rxe5,Rxe5', 'Qb1+,Ne1,Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/uCj0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ucJtd', 'Rapid', 'Zote_M', 2243, 'Jimmy_G', 2267, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,c6,O-O,d5,d4,dxc4,Ne5,Be6,e3,Nbd7,Nf3,Bf5,Qa4,Bd3,Rd1,a5,Re1,b5,Qd1,Ne4,Nxe4,Bxe4,a4,b4,Bf1,Nb6,Nd2,Bd5,Qc2,e5,dxe5,Bxe5,Nxc4,Nxc4,Bxc4,Qf6,Rb1,Rac8,e4,Be6,Bh6,Rfd8,Be3,Bd4,Bxe6,Qxe6,Bxd4,Rxd4,Qc5,Rxe4,Rxe4,Qxe4,Rd1,Qe2,Rb1,Rd8,Qxa5,Rd2,Qb6,Rxb2', 'Qd8+,Kg7,Qd4+', 'https://lichess.org/training/ucJtd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UcLJd', 'Rapid', 'SenileOyster', 2114, 'ClearAdvantage', 2070, 'e4,e6,Nf3,d5,Nc3,Nf6,exd5,exd5,d4,Bg4,Bd3,Nc6,Be3,Be7,h3,Bh5,g4,Bg6,Qe2,Ne4,Nd2,Nxc3,bxc3,Bxd3,Qxd3,Qd7,a4,h5,g5,g6,a5,a6,Bf4,O-O,O-O,Bd6,Bxd6,Qxd6,Rfe1,Rfe8,Nb3,Ne7,Nc5,Nf5,Qf3,Rxe1+,Rxe1,b6,Re5,bxc5,Rxd5,Qe7', 'Rxf5,gxf5,Qxa8+', 'https://lichess.org/training/UcLJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UcM3T', 'Blitz', 'habashi', 2106, 'the-experiment', 2195, 'e4,d6,c4,Nf6,Nc3,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,f3,O-O,Qd2,Qa5,O-O-O,e6,Nb3,Qc7,Qxd6,Qxd6,Rxd6,Ne8,Rd1,Nb4,a3,Nc6,Bc5,b6,Bxf8,Kxf8,Nb5,Ba6,N3d4,Na5,b4,Bxb5,cxb5,Bxd4,bxa5,Bc5,a4,Rc8,axb6,axb6,Kb2,Nd6,Be2,Nb7,Rd7,Na5,Rhd1,Be7,Ra7,Bf6+,Kb1,Rc3,Rdd7,Rb3+,Kc2,Rb2+,Kd1,Bc3,Rxf7+,Kg8,Rfc7,Rd2+,Kc1', 'Nb3+,Kb1,Rb2#', 'https://lichess.org/training/UcM3T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCMd8', 'Rapid', 'erasto66', 1871, 'randombisbop', 1927, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Nf6,e5,Ng4,d4,d5,Bd3,Ne3,Bxe3,fxe3,Qe2,Bg4,Qxe3,Bxf3,gxf3,Qh4+,Kd2,Nxd4,Nc3,Bb4,a3,Bxc3+,Kxc3,Nc6,Bb5,O-O,Bxc6,bxc6,Rag1,Qc4+,Kd2,d4,Qd3,Qd5,f4,f5,h4,c5,b3,a5,Rh3,a4,Rhg3,Rf7,h5,axb3,cxb3,Rxa3,Qb5,Ra2+,Kc1,Ra1+,Kb2,Rxg1,Rxg1,h6,Qe8+,Kh7,Rg6,d3,e6,Qd4+,Ka3,Rf6,Rxf6,Qxf6,e7,d2', 'Qg6+,Qxg6,hxg6+,Kxg6,e8=Q+', 'https://lichess.org/training/UCMd8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ucmMI', 'Rapid', 'Burekovic_123', 2020, 'VJS', 1862, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Nbd7,Nf3,Be7,e3,c5,Bd3,cxd4,exd4,O-O,O-O,h6,Bh4,dxc4,Bxc4,Nb6,Bd3,Nbd5,Rc1,b6,Re1,Bb7,h3,Rc8,Bb1,Re8,Ne5,Nxc3,bxc3,Qd5,f3,Nh7,Bxe7,Rxe7,Qd3,Nf8,Qe3,f5,Qf2,g5,c4,Qa5,h4,Rg7,hxg5,Rxg5,f4', 'Rxg2+,Qxg2+,Bxg2', 'https://lichess.org/training/ucmMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ucmqy', 'Rapid', 'tammino', 1715, 'selimist78', 1651, 'e4,e5,Nf3,Nc6,Bc4,Bc5,a3,a6,Nc3,d6,h3,Nf6,d3,h6,O-O,Be6,Ba2,O-O,Nd5,Bxd5,exd5,Nd4,c3,Nxf3+,Qxf3,Qd7,Bxh6,gxh6,Qxf6,Kh7,Kh1,Rg8,Bb1,Ba7,d4+,Rg6,Bxg6+,fxg6,f4,exd4,cxd4,Rg8,f5,g5,Qe6,Qxe6,fxe6,Bxd4,Rab1,Rg7,Rfe1,Be5,b4,g4,Rf1,gxh3,Rf7', 'hxg2+,Kg1,Bd4+', 'https://lichess.org/training/Ucmqy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uCmrg', 'Blitz', 'HysteriaGambit', 1728, 'TheBishopofMullingar', 1741, 'e4,d6,d4,Nf6,Nc3,g6,Bg5,Bg7,Qf3,O-O,h3,Nc6,O-O-O,e5,d5,Nd4,Qe3,a5,Nge2,c5,Nxd4,cxd4,Qf3,dxc3,Qxc3,Qd7,Kb1,Nxe4,Qe3,Nxg5,Qxg5,b5,f4,exf4,Qxf4,Bb7,h4,h5,g4,Qxg4,Qxg4,hxg4,Be2,f5,h5,Rfe8,Bxb5,Re5,hxg6,Rb8,Bc4,Re4,b3,a4,Bd3,Rf4,Rh5,axb3,cxb3,Rf3,Bxf5,Rf2,Be6+,Kf8,Bxg4,Rb2+,Kc1,Rc8+,Bxc8,Bxc8,Rf1+,Kg8,Rh4,Rxa2,Rff4,Ba6,Re4,Ra1+,Kd2,Ra2+,Ke3,Kf8,Rhf4+,Kg8,Re8+,Bf8,g7', 'Re2+,Kd4,Rxe8,gxf8=Q+,Rxf8', 'https://lichess.org/training/uCmrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ucn1l', 'Rapid', 'belalalali', 1848, 'aanas645', 1712, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,e3,c5,dxc5,Bxc5,Bxf6,Qxf6,cxd5,exd5,Nxd5,Qxb2,Bb5+,Bd7,Bxd7+,Nxd7,Nc7+,Ke7,Nxa8,Bb4+,Kf1,Bc3,Rb1,Qxa2,Nc7,Qc4+,Ne2,Qxc7,Nxc3,Qxc3,Qb3,Qxb3,Rxb3,Rc8,Ke2,Nc5,Rc3,a5,Rb1,Rc7,Rbc1,b6,Rb1,Rc6,Rc2,Rd6,Rcb2,Ne4,Ke1,Nc3,Rc1,Na4,Rbc2,b5,Rc7+,Rd7,Rxd7+,Kxd7,Kd2,Kd6,Kd3,Kd5,f3,Nb2+,Kc2,Nc4,e4+,Kd4,Rd1+,Kc5,Rd5+,Kb4,g4', 'Ne3+,Kd3,Nxd5,exd5,Kc5', 'https://lichess.org/training/Ucn1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCNDc', 'Rapid', 'etiopia', 1834, 'ivko73', 1851, 'e4,e6,d4,d5,e5,c5,Nf3,c4,Nc3,Nc6,g3,Bb4,Bg2,Nge7,Bd2,O-O,h4,f6,exf6,Rxf6,Ng5,Nf5,Qh5,h6,O-O-O,Rf8,Nxd5,Bxd2+,Rxd2,exd5,Bxd5+,Qxd5,Re1,hxg5,hxg5,Qf7', 'g6,Qxg6,Qxg6', 'https://lichess.org/training/UCNDc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UcoQv', 'Blitz', 'Ernst_VP', 1530, 'LeroyCR', 1520, 'd4,d5,Bf4,e6,Nc3,Bd6,Bg3,c6,e3,Ne7,Bd3,f5,Nf3,O-O,Ne5,Nd7,Nxd7,Bxd7,Bxd6,Be8,Bxe7,Qxe7,Ne2,Bh5,f3,Qh4+,Kd2,Qg5,Nf4,Rae8,h4,Qh6,Qg1,e5,dxe5,Rxe5,Re1,d4,Nxh5,dxe3+,Rxe3,Rxe3,Qxe3,Qxh5,Re1,f4,Qe4,Qxh4,Bc4+,Kh8,Qe8,Qf2+,Re2,Qc5,b3,h6,Qe4,Rd8+,Kc1', 'Qa3+,Kb1,Rd1#', 'https://lichess.org/training/UcoQv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCoxQ', 'Blitz', 'FM Pokemon777', 2481, 'TeliTmas', 2594, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Nd5,Nf3,Bd6,Nc3,O-O,O-O,f5,Be2,e4,Nd4,Nf4,d3,Nxg2,Kxg2,Qh4,f4,c5,Nxf5,Bxf5,dxe4,Bh3+,Kh1,Bxf1,Bxf1,Rad8,Nd5', 'Bxf4,Bxf4,Rxf4', 'https://lichess.org/training/UCoxQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ucpT5', 'Rapid', 'addeal', 1754, 'Andrie401', 1749, 'd4,Nf6,Bf4,c5,e3,cxd4,exd4,g6,f3,Bg7,Nc3,O-O,Bd3,Nc6,a3,d5,Qd2,Re8,Bh6,e5,dxe5,Nxe5,Be2,d4,Bxg7,dxc3', 'Qxd8,Rxd8,Bxf6', 'https://lichess.org/training/ucpT5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UcQaa', 'Rapid', 'Mini23', 1631, 'BlackStar13', 1625, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be3,cxd4,cxd4,Nge7,b3,Ng6,Be2,Bb4+,Nbd2,Bxd2+,Qxd2,Bd7,O-O,O-O-O,Ng5,Rdf8,f4,h6,Nf3,f6,Bd3,Nge7,Rac1,f5,Qb2,g5,fxg5,f4,Bf2,hxg5,Nxg5,Rfg8,Nf7,Rxg2+,Kxg2,Rg8+,Kh1,Be8,Nd6+,Kb8,Rg1,Rh8,Rg4,Bh5,Rg7,Bf3+,Kg1,Nxd4,Qxd4,Qd8,Qb4,b6,Rc8+,Nxc8,Rb7+,Ka8,Qa4,Qg5+,Kf1,Qxe5,Nf7,Qa1+,Be1,Rg8,Qc6,Rg1+,Kxg1', 'Qxe1+,Bf1,Qe3#', 'https://lichess.org/training/UcQaa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ucqJk', 'Rapid', 'salmonslayer', 1628, 'Mohamedshaker147', 1600, 'd4,Nc6,Nf3,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd3,Re8,O-O,e5,d5,Ne7,Nxe5,Ng6,Nxg6,fxg6,h3,d6,a3,Bc5,b4,Bb6,a4,a5,b5,Bd7,e4,Rf8,Be3,Nh5,Bxb6,cxb6,Be2,Qf6,Bxh5,gxh5,Ne2,Qg6,Ng3,h4,Nf5,Bxf5,exf5,Rxf5,Qg4,Rg5,Qxh4,Rxg2+,Kh1,Rg5,Rg1,Rxg1+,Rxg1,Qf7,f4,Rf8,Qg5,h6,Qg6,Qxg6,Rxg6,Rxf4,Rxd6,Rxc4,Rxb6,Rxa4,Rxb7,Rd4,Rd7,a4,b6,Rb4,b7,a3', 'Rd8+,Kf7,b8=Q,Rxb8,Rxb8', 'https://lichess.org/training/ucqJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uCr4I', 'Rapid', 'Robertmau', 2105, 'Davaa-Chess', 2054, 'e4,c5,Nf3,Nc6,c3,d5,d4,dxe4,Ng5,cxd4,Bc4,e6,O-O,Nf6,f3,exf3,Qxf3,Bc5,b4,Bb6,Kh1,O-O,Bb2,Ne5,Qh3,Nxc4', 'Rxf6,h6,Rxh6,gxh6,Qxh6,Qxg5,Qxg5+', 'https://lichess.org/training/uCr4I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ucrEA', 'Blitz', 'FM Ratbel', 2412, 'FM gogotaniye', 2599, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,exd6,Nc3,Be7,Bd3,O-O,Nge2,Bf6,Be3,Nc6,b3,Re8,O-O,Bg4,Qd2,d5,c5,Nc8,f3,Bh5,Nf4,Bg6,Bxg6,hxg6,Ncxd5,Bg5,Rfe1,N8e7,Nxe7+,Qxe7,Nd5,Qd8,Bxg5,Qxd5,Be3,Rad8,Bf2,g5,Rxe8+,Rxe8,Re1,Rd8,Rd1,b6,cxb6,cxb6,Qc3,Re8,Rc1,Re6,Qd2,Ne7,Qd3,Ng6,Rc8+,Kh7,Qc4,Qa5,h3,Nf4,Qc2+,g6,d5,Qxd5,Qb2,Qe5,Qxe5,Rxe5,Bd4', 'Ne2+,Kf1,Nxd4', 'https://lichess.org/training/ucrEA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UcRxD', 'Classical', 'ghord', 1684, 'leebers', 1870, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,O-O,d6,Ng5,O-O,Nc3,Na5,Bd5,Nxd5,exd5,Bxg5,f4,Bf6,Ne4,Bb7,Qg4,Bxd5,Nxf6+,Qxf6,f5,Nc6', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/UcRxD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ucrxF', 'Blitz', 'Roma_Kondra', 2353, 'FM grandmastergauri', 2462, 'd4,Nf6,Nf3,e6,Bg5,h6,Bh4,c5,e3,b6,Nbd2,Bb7,Bd3,Be7,Qe2,d5,c3,Nc6,O-O-O,a6,Kb1,b5,Ne5,c4,Bc2,b4,Nxc6,Bxc6,cxb4,Bxb4,e4,Qb6,Bxf6,gxf6,exd5,Bxd5,Nxc4,Qb5,Bd3,Ke7,Ne3,Qa5,Nxd5+,Qxd5,Be4,Qa5,Bxa8,Rxa8,d5,e5,d6+,Bxd6,Qe4,Rb8,Rhe1,Ba3,Re2,Qc3,Rdd2,Bc5,Qd3', 'Rxb2+,Rxb2,Qxd3+', 'https://lichess.org/training/ucrxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UcSoH', 'Blitz', 'damneskjold', 1876, 'cab04', 1943, 'd4,Nf6,Bf4,c5,dxc5,Qa5+,Qd2,Qxc5,Be3,Qb5,b3,Nc6,Nc3,Qe5,O-O-O,d6,Bf4,Qa5,Bg5,Nd7,e4,h6,Be3,g6,Nb5,a6', 'Qxa5,Nxa5,Nc7+,Kd8,Nxa8', 'https://lichess.org/training/UcSoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UcTk5', 'Classical', 'namik1958', 1898, 'German1973', 2158, 'e4,c5,d3,Nc6,c3,e6,Be2,d5,f3,Nf6,Bg5,h6,Bxf6,Qxf6,Nd2,d4,c4,e5,g3,Be7,a3,h5,Bf1,h4,g4,O-O,Ne2,Qh6,Bg2,h3,Bf1,Be6,Ng3,Bh4,Qe2,Bxg3+,hxg3,f5,Rxh3,Qg5,Rh5,Qg6,Bh3,fxg4,fxg4,Ne7,Rxe5,Rf6,O-O-O,Raf8,Rh1,Rf2,Qe1,Bxg4,Bxg4,Qxg4,Reh5,Ng6,Rxc5,Qxg3,Rg1,Qd6,Rcg5,R8f6,e5,Nxe5,Rxg7+,Kf8,Ne4,Nxd3+,Kb1', 'Rxb2+,Ka1,Qxa3#', 'https://lichess.org/training/UcTk5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uCTOG', 'Rapid', 'zuza7', 1707, 'FelixJoseph1991', 1616, 'd4,Nf6,Bg5,Ne4,Bf4,c5,dxc5,Qa5+,c3,Nxc3,Bd2,Nxd1,Bxa5,Nxb2,Bc7,g6', 'Be5,f6,Bxb2', 'https://lichess.org/training/uCTOG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCu9I', 'Rapid', 'genhis', 1745, 'SpiderAlejo', 1679, 'e4,c5,Nf3,Nc6,Bc4,d6,d3,Nf6,Be3,e6,Nbd2,Be7,O-O,O-O,a3,d5,exd5,exd5,Ba2,Bg4,c3,d4,Bg5,dxc3,bxc3,Qxd3,Rc1,Ne5', 'Nxe5,Bxd1,Nxd3', 'https://lichess.org/training/UCu9I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UCV5I', 'Rapid', 'Faustocorradi', 1604, 'vasyabe', 1701, 'e4,e5,Bc4,Bc5,d3,Nf6,f4,d6,Nf3,Bg4,h3,Be6,Bxe6,fxe6,fxe5,dxe5,Nxe5,Qd4,Ng4,Nxg4,Qxg4,Qf2+,Kd1,O-O,Bh6,Rf7,Nd2,Nc6,Rf1,Qxf1+,Nxf1,Rxf1+,Kd2,Rf2+,Ke1,Rf7,c3,Raf8,d4,Rf1+,Kd2,R1f2+,Ke3,R8f7,dxc5,Ne5,Qg3,Nc4+,Kd4,Nxb2,Be3,e5+,Kd5,Rd7+,Ke6,Rff7,Kxe5,Rde7+,Kd4', 'Rd7+,Qd6,cxd6', 'https://lichess.org/training/UCV5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UcVd6', 'Rapid', 'huskar1987', 1925, 'Chesspatzeruk-TWITCH', 2041, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,Be7,Bxf6,Bxf6,e4,d6,exf5,exf5,Nf3,O-O,Be2,Re8,O-O,Nc6,d5,Ne5,Qc2,Bd7,b3,Qe7,Nd4,Nxc4,bxc4,Bxd4,Rae1,Qf6,Nb5,Bb6,Bd3,a6,Nc3,Ba5,Rxe8+,Rxe8,Ne2,b5,Ng3,g6,Rb1,Re1+,Rxe1,Bxe1,Qb1,Qc3,cxb5,Qd2,bxa6,Bxf2+,Kh1,Qa5,Qc2,f4,Qxf2,fxg3,Qxg3,Qxd5,a7,Qxa2', 'Bc4+,Qxc4,a8=Q+', 'https://lichess.org/training/UcVd6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ucw0P', 'Rapid', 'balreos', 1735, 'cosmarencos', 1816, 'd4,d5,Nf3,Nf6,Bg5,Ne4,Bf4,e6,e3,Bb4+,c3,Be7,Nbd2,O-O,Nxe4,dxe4,Ne5,f6,Nc4,b5,Nd2,f5,Bxb5,c6,Bc4,Nd7,f3,Nb6,fxe4,fxe4,Be2,Bh4+,g3,Bg5,O-O,Nd5,Bxg5,Qxg5,Rxf8+,Kxf8,Qf1+,Kg8,Qf2,Nxe3,Nxe4,Qh6,Bc4,Ng4,Qg2,Bd7,h4,Qe3+,Kh1,Rf8,Rf1,Rxf1+,Bxf1,e5,Be2,Nf6,Nxf6+,gxf6,Bc4+,Kh8,Kh2,exd4,Qf1,Qe5,Qf2,dxc3,bxc3,Qxc3,Bf7,Qe5,Qxa7,Qf5,Qb8+,Kg7', 'Qg8+,Kh6,Qf8#', 'https://lichess.org/training/Ucw0P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ucwYu', 'Rapid', 'MCA44', 1664, 'Sergey4684', 1712, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,h6,O-O,d6,d4,Bg4,Be2,exd4,Nxd4,Bxe2,Ndxe2,Be7,Nd4,Nxd4,Qxd4,O-O,e5,dxe5,Qxe5,Bd6,Qb5,b6,Be3,a6,Qd3,Re8,Rad1,Re6,Rfe1,Qe7,Nd5,Nxd5,Qxd5,Qd8,Qf3,Qf6,Qxf6,Rxf6,c3,Rd8,b4,Rf5,a4,a5,b5,Re5,g3,Kf8,h4,Ke8,Kg2,f6,Re2,Kf7,f4,Re4,Rd4,Rde8,Kf3,Rxd4,Bxd4,Rxe2,Kxe2,Ke6,Ke3,Kf5,Kf3,h5,c4,g6,Bf2,Ke6,Ke4,f5+,Kf3,Bb4,Bd4,Kd6,Ke3,Bc5,Kd3,Bxd4,Kxd4,c6,bxc6,Kxc6,Ke5', 'Kc5,Kf6,Kxc4', 'https://lichess.org/training/ucwYu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UcZJt', 'Rapid', 'ET1000', 1729, 'CrapCrusher', 1929, 'e4,c5,Bc4,e6,Nc3,a6,a3,b5,Ba2,Bb7,d3,d6,Nf3,Ne7,O-O,Ng6,Bg5,Be7,Qd2,O-O,Bxe7,Nxe7,h3,Nd7,Nh2,Rc8,f4,c4,dxc4,bxc4,Qxd6,Rc6,Qd2,Qb6+,Kh1,Rd8,Na4,Qc7,Rad1,Qc8,Qe3,Rc7,Nb6,Nxb6,Qxb6,Bxe4,c3,Rdd7,Rxd7,Rxd7,Bb1,Ba8,Bc2,Rd2,Rg1,Rxc2,Nf3,Nd5,Qd6,Bb7,Ne5,Qc7,Qxc7,Nxc7,b4,f6,Nd7,Kf7,Nc5,Bc8,Ne4,Ke7,Rd1,Nd5,f5,Nf4,Rd2,Rxd2,Nxd2,exf5,Nxc4,Ne2,Nb6,Bb7,c4,Nf4,b5,axb5,cxb5,Bxg2+,Kg1,Bxh3,a4,Ne6,Nd5+,Kd6,b6,Kc6,a5,f4,Nb4+,Kb5,b7,Kxb4,b8=Q+,Kxa5,Qb3,Bf5', 'Qd5+,Kb4,Qxf5', 'https://lichess.org/training/UcZJt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ud2jK', 'Rapid', 'nashat90', 1732, 'Inkjet-Printer', 1799, 'e4,e5,d4,exd4,c3,Nf6,e5,Ne4,cxd4,d6,Bd3,Bf5,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/ud2jK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ud63N', 'Rapid', 'gardee', 1892, 'alexplatovo', 1905, 'b3,d5,Bb2,c6,e3,Nd7,c4,e5,cxd5,cxd5,Nc3,Ne7,Rc1,f6,Nb5,Nc6,Qh5+,g6,Qf3,e4,Qg3,Nce5,Nc7+,Kf7,Nxd5,Bd6,f4,Nd3+,Bxd3,exd3,Nh3,Bb8,Nf2,Ne5,fxe5,Qxd5,e4,Qb5,Qxd3,Qxd3,Nxd3,Bd7,O-O,Bc6,Rxf6+,Ke8,Nf2,Rf8,d3,Bc7,Ng4,Bb6+,Kh1,Rd8,Rd6,Rxd6,exd6,Rf4,Ne5,Rf2,Nc4,Bb5,Nxb6,Rxb2,h3,axb6,Rc7,Bxd3,Rxh7,Bxe4', 'Re7+,Kd8,Rxe4', 'https://lichess.org/training/ud63N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uD6te', 'Rapid', 'Ronaldom5556', 1810, 'carlsen3131', 2007, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,d3,Nf6,Ng5,d5,Bb3,h6,Nf3,Bd6,Nc3,c6,Bd2,O-O,Qe2,Re8,O-O-O,Nbd7,h3,b5,g4,a5,g5,hxg5,a3,Nc5,Bxg5,b4,axb4,axb4,Nb1,Ba6,h4,e4,Nd4,exd3,Qf3,Be5,Nxc6,Nxb3+,cxb3,Qc7,Kd2,Bf4+,Bxf4,Qxf4+,Qxf4', 'Re2+,Kc1,Rc2#', 'https://lichess.org/training/uD6te');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDaEC', 'Rapid', 'ab3n6', 1734, 'moham6265', 1783, 'e4,c5,f4,d5,exd5,Qxd5,Nc3,Qd6,d3,Nf6,Nf3,Bg4,Be2,a6,O-O,Nc6,Be3,e6,Na4,Nd4,Nxd4,cxd4,Bd2,Bxe2,Qxe2,b5,f5,bxa4,fxe6,Qxe6,Qf2,Be7,Rae1,Qd6,Rxe7+,Kxe7,Re1+,Kf8,a3,a5,Bf4,Qb6,Be5,Ng4,Bxg7+,Kxg7,Qg3,Qg6,h3,Ne3,Qe5+,Kg8,Re2,Rd8,Qxa5,Qf5', 'Qxd8+,Kg7,Qxd4+', 'https://lichess.org/training/UDaEC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udAst', 'Rapid', 'NinjaStyle', 1811, 'wies77', 1785, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,e3,g6,Nc3,axb5,Bxb5,Ba6,Bxa6,Rxa6,Nf3,d6,O-O,Bg7,a4,O-O,Re1,Nbd7,Qc2,Qa8,e4,Nb6,b3,Rc8,Bg5,h6,Bxf6,Bxf6,e5,Bg7,exd6,exd6,Rad1,Bxc3,Qxc3,Nxd5,Qd2,Nc7,Qxd6,Rxd6,Rxd6,Rd8,Rf6,Re8,Rd1,Kg7,Rfd6,Ne6,Ne5,Rd8,Rxd8,Nxd8,Rd7,Qe4,Nd3,Ne6,h3,Nf4,Nxf4,Qxf4,Rd3,Kf6', 'Rf3,Qxf3,gxf3', 'https://lichess.org/training/udAst');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uDBTs', 'Classical', 'marcosjobim87', 1791, 'candidoescu', 1895, 'c4,c5,e4,e5,Nf3,d6,Nc3,Nf6,d3,Be7,g3,Nc6,Bg2,Be6,O-O,a6,Ng5,Bg4,f3,Bh5,g4,Bg6,h4,h5,Bh3,hxg4,fxg4,Rxh4,Kg2,Nd4,Be3,Qb6,Nf3,Qxb2+,Bd2,Rxg4+,Bxg4,Nxg4,Qe1,Nc2,Qb1,Qxa1', 'Qxc2,Qxf1+,Kxf1', 'https://lichess.org/training/uDBTs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udcrr', 'Rapid', 'BanditoGiuliano', 1620, 'Marchadus', 1616, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bg5,d6,h3,Nbd7,e3,Re8,Be2,Nb6,h4,Nh5,Nd2,h6,Bxh5,gxh5,Bf4,e5,dxe5,dxe5,Bg3,Qd3,Qxh5,Nxc4,Nxc4,Qxc4,Rd1', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/udcrr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udE0m', 'Blitz', 'danielcuba', 2488, 'CM Itachi2096', 2388, 'b3,d5,Bb2,Bf5,e3,e6,d3,Nf6,Ne2,Nbd7,Nd2,h6,g3,Be7,Bg2,O-O,O-O,c6,a4,a5,f3,Bh7,e4,Qb6+,Kh1,dxe4,fxe4,Ng4,Nc4,Nf2+', 'Rxf2,Qxf2,Bd4', 'https://lichess.org/training/udE0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uDerL', 'Blitz', 'srv250s', 1662, 'pisces1988', 1654, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Nc3,O-O,O-O,c5,Nf5,Bxf5,exf5,h6,Nd5,Nxd5,Bxd5,Nc6,Qg4,Bf6,Bxh6,Ne5,Qg3,Rb8,Be3,b6,f4,Nd7,c3,a6,Rad1,b5,Bc6,Bh4,Qh3,Bf6,Rxd6,Qc7,Rxd7,Qxc6,Rd3,Rfe8,Rfd1,Qe4,Bxc5,Rbc8,Bd4,Bxd4+,cxd4,Rc2,f6', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/uDerL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udF7E', 'Rapid', 'Powodzenia', 2149, 'shozolosa', 2158, 'e4,d6,d4,g6,h4,Bg7,h5,c5,h6,Bxd4,Nf3,Bf6,Bc4,e6,Nc3,Nc6,Bf4,e5,Be3,Nge7,Ng5,O-O,Qd2,a6,a4,Nd4,a5,Nec6,Nd5,Be6,Nxf6+,Qxf6,Be2,Nxe2,Qxe2,Nd4,Qd2,Rfd8,Rd1,d5,c3,Nb3,Qc2,d4,Nxe6,Qxe6,Bg5,Rdc8,c4,Nxa5,b3,Nc6,Rh3,Nb4,Qe2,d3,Qd2,f6,Be3,Nc2+,Kf1,Nxe3+,Rxe3,Rd8,Rxd3,Rd4,Rxd4,exd4,Qf4,Qe5,Qg4,Re8,Re1,f5,Qh3,fxe4,Qd7,Qe7,Qd5+,Qe6,Qxb7,Re7,Qb8+,Kf7,Qh8,e3,Qxh7+,Ke8,Qh8+,Kd7,h7,e2+,Kg1,d3,Qg8', 'd2,Qxe6+,Rxe6', 'https://lichess.org/training/udF7E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDFCB', 'Blitz', 'gabi1400', 1879, 'I-SlaydraKYD', 1860, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Bg5,h6,Bh4,g5,Nxc6,bxc6,Bg3,O-O,Bd3,d5,exd5,cxd5,O-O,c5,a3,Ba5,f4,d4,Ne4,Nxe4,Bxe4,Rb8,fxg5,Qxg5,Qd3,Qe3+,Qxe3,dxe3,b3,Re8,Bxb8,Rxe4,Rae1,Bxe1,Rxe1,e2,Kf2,Ba6,Bd6,c4,b4,c3,a4,Bc4,Kf3,Re6,Bc5,a6,a5,Bb5,Kf2,Kg7,Rg1,Kg6,Ke1,f5,g4,fxg4,Rxg4+,Kf5,Rg2,Kf4,Bf2,Re7,Bd4,Rd7,Bxc3', 'Rd1+,Kf2,Rf1#', 'https://lichess.org/training/UDFCB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UdffW', 'Blitz', 'FM makim_tsaruk', 2577, 'IM DoubleP', 2427, 'e4,d6,d4,Nf6,Nc3,g6,Be3,c6,f3,b5,Qd2,b4,Nd1,a5,a3,bxa3,Rxa3,Bg7,Nc3,O-O,Bd3,Nbd7,Nge2,e5,O-O,Ba6,Bxa6,Rxa6,Rfa1,exd4,Nxd4,Ne5,Qe2,Ra8,Nb3,d5,exd5,Nxd5,Nxd5,cxd5,Rxa5,Rxa5,Nxa5,Re8,Qf2,d4,Bf4,d3,Bxe5,Bxe5,Nc6,Bxh2+,Kxh2,Qd6+,Kg1,Qxc6,cxd3,Qd5,d4,h5,Rd1,g5,Rd2,h4,b4,Kg7,f4,Ra8,fxg5,Ra1+,Kh2,Qd6+,g3', 'hxg3+,Qxg3,Rh1+', 'https://lichess.org/training/UdffW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udfVk', 'Rapid', 'cswhitmo01', 1699, 'blint', 1711, 'e4,c5,Nf3,Nc6,Bc4,g6,c3,e6,O-O,Bg7,d3,Nge7,Be3,b6,d4,cxd4,cxd4,O-O,Nc3,Bb7,a3,Na5,Ba2,f5,e5,Rc8,Ng5,Kh8,Bxe6,dxe6,Nxe6,Qd7,Nxf8,Rxf8,Bg5,Qc6,f3,Nd5,Rc1,Qd7,Nxd5,Bxd5,Re1,Rc8,Rxc8+,Qxc8,Qb1,Nb3,Qd3,Qd7,Qc3,h6,Bf6,Kh7,Qb4,Bg8,Qd6', 'Qxd6,exd6,Bxf6', 'https://lichess.org/training/udfVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UdGdL', 'Blitz', 'arnaudlambert', 1673, 'ahmadiamat', 1660, 'e4,e5,Nf3,d6,Nc3,c6,d4,exd4,Nxd4,Nf6,Bc4,Be7,Bb3,Nbd7,O-O,O-O,f4,a6,Nf5,Nc5,Nxe7+,Qxe7,Qe2,Ncxe4,Nxe4,Nxe4,Re1,d5,c4,Be6,cxd5,cxd5,g4,Qh4,f5,Bd7,Bxd5,Nf6,Bxb7,Rab8,Bf3,Bb5,Qf2,Qh3,Bg5,Nxg4,Bxg4,Qxg4+,Qg3,Qxf5,Re5,Qc2,Bh6,g6,Qf4,Rfd8,Rae1,f5,Qg5,Re8,Qf6,Qc7', 'Rxe8+,Rxe8,Rxe8+,Bxe8,Qf8#', 'https://lichess.org/training/UdGdL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDH2W', 'Blitz', 'ACSF', 1558, 'soberdogs', 1581, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Nxc6,bxc6,Bc4,d6,Bb3,Nf6,O-O,O-O,Re1,Bb7,Bg5,c5,Qd2,Re8,Bh6,Bh8,Nd5,Ng4,Bf4,Bxb2,Rad1,Bd4,c4,Nxf2,Be3,Bxe3,Rxe3,Nxd1,Qxd1,e6,Nc3,Qg5,Rg3,Qe5,Qg4,a5,Rh3,a4,Nxa4,Qd4+,Kh1,Bxe4,Nc3,Qf2,Ne2,Bf5,Qf3,Qe1+,Ng1,Bxh3,Qxh3,d5,cxd5,exd5,Qd7,Re2,Qxd5,Rae8', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/UDH2W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udhYk', 'Blitz', 'Mateusz007', 1877, 'reyjohnny11', 1845, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,c4,Nf6,Qe2+,Kf8,c5,Be7,Nc3,g6,Bf4,Kg7,O-O-O,Re8,Qd2,Bf5,h4,b6,h5,bxc5,hxg6,fxg6,Be5,cxd4,Qh6+,Kf7,Ng5+,Kg8,Bxf6,Bxf6', 'Qxh7+,Kf8,Qf7#', 'https://lichess.org/training/udhYk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDItE', 'Classical', 'nckmrrtt', 2066, 'arconsul', 1893, 'e4,e5,Nf3,Nf6,d3,Nc6,Be2,Bc5,h3,d6,O-O,h6,Be3,Bxe3,fxe3,O-O,Nc3,Be6,d4,Ne7,dxe5,dxe5,Nxe5,c6,Qe1,Qb6,Qg3,Qxb2,Na4,Qxc2,Bd1,Qxe4,Rxf6,Nf5,Rxf5,Bxf5,Nc5,Qb4,Nb3,Rfe8,Bh5,Re7,Nd4,Bh7,Rf1,Rf8,Qf4,f6,Ng6,Bxg6,Bxg6,Qd2,Nf5,Rd7,Rf3,Rfd8,Rg3,Qc1+,Kh2,Rd1,Bh7+,Kf8,Rxg7,Rh1+,Kg3,Qe1+,Kg4,Qe2+,Kh4,Qe1+,g3,Rxh3+,Kxh3', 'Qh1+,Kg4,h5#', 'https://lichess.org/training/UDItE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Udiu3', 'Rapid', 'dhel0516', 1864, 'verdeckel', 2086, 'e4,e5,f4,Bc5,Nf3,d6,Bc4,Nc6,c3,Bg4,a4,a5,Na3,Nf6,d3,d5,Bb5,dxe4,Bxc6+,bxc6,dxe4,Qxd1+,Kxd1,Nxe4,Kc2,Bf5,Nh4,Nf2+,Nxf5,Nxh1,Nxg7+,Kf8,Nf5,e4,Nc4,Nf2,Ne5,Bd6,Nxc6,Nd3,Be3,Nxf4', 'Nxd6,cxd6,Bxf4', 'https://lichess.org/training/Udiu3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UdjgS', 'Blitz', 'xElucidatoRx', 1680, 'Everestpinguin', 1699, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,cxd4,cxd4,f6,exf6,Nxf6,Nc3,Bd6,O-O,O-O,Bg5,Bd7,Rb1,Ne4,Be3,Nxc3,bxc3,Qc7,Qb3,Na5,Qb2,b6,Rfc1,Nc4,Bxc4,Qxc4,Nd2,Qc7,h3,e5,c4,exd4,Bxd4,Rae8,cxd5,Qb8,Bxg7,Rf7,Bd4,Re2,Rc2,Bf5,Rbc1,Bxc2,Rxc2', 'Re1+,Nf1,Bh2+,Kh1,Rxf1#', 'https://lichess.org/training/UdjgS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UdjtA', 'Rapid', 'subas8848', 1709, 'zzzstalin', 1734, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,e6,Nf3,Be7,Bd3,Nbd7,O-O,O-O,Bc2,h6,Qd3,Qa5,Re1,e5,dxe5,dxe5,Bd2,Nc5,Qe2,Qc7,Rac1,b6,Bd3,Bb7,Na4,Rad8,Nxc5,Bxc5,b4,Rd7,bxc5,Rfd8,cxb6,Qxb6,Bb1,Ba6,Qd1,Ng4,Rf1', 'Bxf1,Qxf1,Rxd2,Nxd2,Rxd2,Rc8+,Kh7', 'https://lichess.org/training/UdjtA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Udkj5', 'Rapid', 'Dffdghy', 1741, 'AlfCapone', 1730, 'e4,e6,g3,d5,exd5,exd5,Bg2,g6,Nf3,Bg7,c3,Nf6,O-O,Bg4,Re1+,Be6,Nd4,Qd6,Nxe6,fxe6,d4,O-O,Bf4,Qd7,Qb3,b6,Nd2,Nc6,Nf3,h6,Nh4,Kh7,Qc2,Qf7,Bh3,Rfe8,Nf3,Nh5,Ne5,Nxe5,Bxe5,Bxe5,Rxe5,Ng7,Rf1,Nf5,Bg2,Rac8,Qd3,Qf6,c4,c5,cxd5,Nxd4,Ree1,Rcd8,dxe6,Rxe6,Rxe6,Qxe6,Qa6,Qf7,b3,Rf8,Qd3,Re8,h4,Re2,h5,Rxa2', 'hxg6+,Qxg6,Be4', 'https://lichess.org/training/Udkj5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uDkwn', 'Rapid', 'rahem', 1815, 'p206', 1783, 'e4,e6,d4,d5,exd5,exd5,Nf3,Be6,Bd3,Bd6,O-O,Nf6,Bg5,Nbd7,Nc3,c5,Bb5,O-O,Be2,Qb6,Nb5,a6,Nxd6,Qxd6,c4,dxc4,Rc1,b5,Be3,Rad8,dxc5,Nxc5', 'Qxd6,Rxd6,Bxc5', 'https://lichess.org/training/uDkwn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Udlii', 'Classical', 'Finneon7', 1697, 'edmundas04', 1719, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nxc6,bxc6,c4,e5,Qa4,Qd7,Nc3,Nf6,b4,Be7,O-O,O-O,b5,c5,f3,Rfe8,Nd5,Nxd5,exd5,Bf6,Bb2,Qf5,Rae1,g5,Re4,h5,Qc2,Kg7,g4,hxg4,fxg4,Qh7,a4,a6,Rf3,axb5,axb5,Ra2,Ra3', 'Rxb2,Qxb2,Qxe4', 'https://lichess.org/training/Udlii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDLkG', 'Rapid', 'haparadan', 1664, 'aklis_yu', 1668, 'Nf3,c5,g3,Nc6,Bg2,b6,d4,Bb7,O-O,Nxd4,Nxd4,Bxg2,Kxg2,cxd4,Qxd4,Nf6,Bg5,h6,Bxf6,exf6,Qe4+,Be7,Qg4,O-O,Nc3,Re8,Nd5,Rc8,Nxe7+,Rxe7,c3,Qe8,e3,Re4,Qf3,d5,Rad1,Rd8,Rd4,Rxd4,exd4,Qb5,Rb1,a5,Qf5,a4,a3,Qc4,Qc2,b5,Re1,g5,Re3,Kg7,Qe2,Qc6,Qh5,Rd6,Re7,Rd7', 'Qxf7+,Kh8,Qg7#', 'https://lichess.org/training/UDLkG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udMHD', 'Rapid', 'netrepa', 1925, 'RandikaLakmal', 2011, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Bg5,Nbd7,Nc3,h6,Bh4,g5,Bg3,b6,Nd4,Bb7,Ndb5,Kd8,O-O-O,a6,Nd4,Nd5,Ne4,Nf4,Bxf4,gxf4,g3,fxg3,hxg3,Bxe4,dxe4,Qg5+,Kb1,Bg7,Rh5,Qg6,Nc6+,Ke8,Bh3,Ne5,Bf5,Qf6,Nxe5,dxe5,Rhh1,Bf8,Bd7+,Ke7,Qc4,c5,f4,Rd8,fxe5,Qxe5,Rhf1,f6,Rd5,Qxg3,Rxf6', 'Qe1+,Rd1,Qxd1#', 'https://lichess.org/training/udMHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDnxm', 'Rapid', 'HenrickDantas21', 1760, 'Thomaswagihtota', 1735, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,g6,Be2,Bg7,f3,O-O,Qd2,Nc6,O-O-O,Nxd4,Qxd4,Ng4,Qg1,Ne5,Nd5,Be6,Bxe7,Qa5,Bxf8,Kxf8,Kb1,Bxd5,Rxd5,Qb4,c3,Qa4,Rxd6,Nc4,Bxc4,Qxc4,Qe3,b5,Rhd1,b4,cxb4,Qxb4,Rb6,Qc4,Rc1,Qa4,Qc5+,Kg8,Rb4,Qd7,Rbc4,Rb8,b3,Qd3+,R4c2', 'Rxb3+,axb3,Qxb3+,Rb2,Qxb2#', 'https://lichess.org/training/UDnxm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UdO3r', 'Rapid', 'pedro_lucaas', 1702, 'zxc13', 1679, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bf4,Bg4,c3,Nf6,Nbd2,Ne4,Be2,f5,O-O,h5,a4,h4,h3,Bxf3,Bxf3,g5,Bh2,g4,hxg4,h3,gxf5,hxg2,Re1,Nxd2,Qxd2,Bh6,Bf4,Bxf4,Qxf4,Qd7,f6', 'Rh1+,Kxg2,Qh3#', 'https://lichess.org/training/UdO3r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDOPB', 'Rapid', 'devillito', 2175, 'Mrnobodie', 2238, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,a3,a5,Nc3,O-O,Be2,Re8,O-O,Ngxe5,b3,Nxf3+,Bxf3,Ne5,Be2,Ra6,Bb2,Rh6,Ne4', 'Qh4,h3,Qxe4', 'https://lichess.org/training/UDOPB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Udp2b', 'Blitz', 'SrHannibalLecter', 2046, 'David-1973', 2061, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5c3,f5,Be2,Nf6,exf5,Bxf5,O-O,Be7,Nd2,O-O,Nf3,Qc7,Be3,Rad8,Rc1,Qb8,Nh4,Be6,Nd5,Bxd5,cxd5,Nb4,Bc4,b5,Bb3,a5,a3,a4,Ba2,Nxa2,Ra1,Qa8,Nf5,Nxd5', 'Qxd5+,Qxd5,Nxe7+,Kf7,Nxd5', 'https://lichess.org/training/Udp2b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDpBo', 'Rapid', 'Aditi117', 2144, 'kameswarRao1975', 1832, 'e4,g6,d4,Bg7,f4,d6,Nf3,Bg4,c3,e5,fxe5,dxe5,d5,Qf6,Be2,Bh6,O-O,Bxf3,Rxf3,Qe7,Nd2,Bf4,Nc4,Bxc1,Rxc1,Nf6,Bd3,O-O,Qd2,Nbd7,b4,Nb6,Ne3,c6,c4,cxd5,cxd5,Qd6,Rcf1,Nh5,Ng4,Nf4,g3,Nxd3,Qh6,Nd7,Rxd3,Qxb4,Rdf3,Qxe4,Rxf7,Qd4+,Kg2,Rxf7,Rxf7,Qxd5+,Rf3,Qxa2+,Rf2,Qd5+,Kh3,Qe6,Kh4,Rf8,Rxf8+,Nxf8,Qg5,Kh8,Nxe5,Qf5,Qe7,g5+,Kh5,Qh3+,Kxg5,h6+,Kf6,Nh7+', 'Kg6,Qe6+,Qxe6', 'https://lichess.org/training/UDpBo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDPUE', 'Blitz', 'Grijandel', 2422, 'IM ENERGIE73', 2344, 'c4,e6,g3,d5,Bg2,h5,Nf3,h4,Nxh4,dxc4,Qa4+,Nd7,Nf3,a6,Qxc4,b5,Qb3,Bb7,d4,Ngf6,Bg5,c5,O-O,Qb6,Be3,c4,Qc2,Nd5,Bd2,Nb4,Bxb4,Bxb4,Nc3,Nf6,e3,O-O-O,b3,cxb3,axb3,Bxc3,Qxc3+,Kb8,Qa5,Qxa5,Rxa5,Rc8,Ne5,Rc7,Bxb7,Kxb7,Rfa1,Ra8,Nd3,Ne4,b4,Rc3,R5a3,Rxa3,Rxa3,Kb6,Nc5,Nxc5,dxc5+,Kc6,Kf1,Kd5,Rc3,a5,bxa5,Rxa5,c6,Ra8,c7,Rc8,Ke2,b4,Rc1,b3,Kd3,b2,Rb1,Rxc7,Rxb2,Ke5,Rb5+,Kf6,h4,g6,g4,Ra7,Ke4,Ra2,Kf3,Ra1,Rb8,Rh1,Kg3,Rg1+,Kh2,Rf1,Kg2,Ra1,Rg8,Ra4,Kg3,Ra1,g5+,Ke7,f3,Re1,Kf4,Rh1,Rh8,Rh3,Kg4,Rh1,h5,gxh5+,Rxh5,Re1,Kf4,Kf8,e4,Kg7,Rh2,Rg1,Ra2,Kg6,Ra5,Rg2,Ra7,Rxg5,Rxf7', 'e5+,Ke3,Kxf7', 'https://lichess.org/training/UDPUE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udqG4', 'Classical', 'bilel97', 1827, 'andrewsin', 1855, 'e4,d5,Nf3,dxe4,Ng5,Nf6,d3,h6,Nxe4,Nxe4,dxe4,Qxd1+,Kxd1,e5,Bc4,Bc5,f3,Nc6,Nc3,O-O,Nd5,Rd8,Bd2,Bb6,Ke2,Nd4+,Kd1,c6,Nxb6,axb6,c3,Ne6,Ke2,b5,Bb3,c5,Bd5,Nc7,c4,Be6,b3,bxc4,bxc4,Bxd5,cxd5,Nb5,Kf2,Nd4,Rhb1,Rdb8,Rb6,c4,Be3,Nb3,Rd1,Rxa2+,Kg3,Rb2,d6,c3,d7,Rd8,Rxb7,Nd4,Rxb2,cxb2,Rb1,Nc2,Bf2,Rxd7,Rxb2,Rd2,Rb8+,Kh7,Re8,f6,Rc8,h5,Bc5,Ne1,Bf2', 'h4+,Kxh4,Rxf2', 'https://lichess.org/training/udqG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDqNX', 'Blitz', 'colrov', 1728, 'ferguson', 1749, 'Nf3,Nf6,d4,g6,c4,Bg7,Nc3,d6,e4,O-O,Bd3,Nc6,O-O,e5,d5,Ne7,b3,Nd7,Be3,f5,exf5,Nxf5,Bg5,Qe8,Be4,Nf6,Bxf6,Bxf6,Qc2,Bg7,Rfe1,Bd7,Rad1,Nh6,h3,Nf7,b4,b6,a3,Nd8,Ne2,Qf7,Ng3,Nb7,Ng5,Qe7,h4,a5,b5,Nc5,Bxg6,hxg6,Qxg6,Rfd8,Nh5,Be8,Nf6+,Qxf6,Qh7+,Kf8,Re3,Qh6,Rf3+,Ke7,Qg8,Bh5', 'Rf7+,Bxf7,Qxf7#', 'https://lichess.org/training/UDqNX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udQre', 'Rapid', 'mohsen_t28', 1755, 'pfaffp', 1762, 'e4,c5,Bc4,e6,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,Bb4,Ne2,Nxe4,O-O,Nf6,Bg5,d5,Bd3,Be7,Bb5,O-O,Qd2,a6,Bxc6,bxc6,Be3,Qc7,Bf4,e5,Bg3,Rd8,Rad1,Bb4,a3,d4,Nxd4,Rxd4', 'Qxd4,exd4,Bxc7', 'https://lichess.org/training/udQre');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uDsq6', 'Rapid', 'p3aoR3i', 1609, 'sabmud', 1741, 'c4,Nf6,Nc3,d6,e3,g6,Qc2,Bg7,Nf3,Bf5,e4,Nxe4,Nxe4,d5,cxd5,Qxd5,Bd3,O-O,Qc4', 'Qxc4,Bxc4,Bxe4', 'https://lichess.org/training/uDsq6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udTcv', 'Rapid', 'crocemaltese', 1739, 'Hg3oz', 1923, 'e4,c5,c4,d6,d3,Nf6,g3,Nc6,Be3,e6,f4,Be7,h4,d5,cxd5,exd5,e5,Ng8,d4,cxd4,Bxd4,Nxd4,Qxd4,Qa5+,Nc3,Be6,Bg2,Nh6,Ne2,Nf5,Qd2,Bb4,a3,O-O,O-O,Bxc3,bxc3,Rfd8,Nd4,Nxg3,Rf2,Rac8,Rf3,Ne4,Qb2,Rxc3,f5,Rxf3,Bxf3,Bxf5,Nxf5,Nd2,Bg2,Qb6+,Qxb6,axb6,Rd1,g6,Ne7+,Kf8,Nxd5,Nb3,Rb1,Nd4,Rxb6,Nc6,Rxb7,Nxe5,Nf6,Rd1+,Kh2,Kg7,Ne8+,Kh6,a4,Ra1,Rb4,Ra2,Nd6,Nd3,Rd4,Ne5,Nc4', 'Nf3+,Kg3,Nxd4', 'https://lichess.org/training/udTcv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDtCy', 'Blitz', 'nocondom_fighter69', 2516, 'el_rupe', 2424, 'Nf3,c5,g3,Nc6,Bg2,e5,O-O,g6,c4,Bg7,Nc3,Nge7,Ne1,d6,Nc2,O-O,Ne3,Be6,Ned5,Rb8,d3,a6,a4,h6,e3,Kh7,Rb1,f5,f4,Bg8,Bd2,Nxd5,Nxd5,b5,axb5,axb5,b3,exf4,gxf4,Ne7,Nxe7,Qxe7,e4,Bd4+,Kh1,bxc4,bxc4,Qh4,Qa4,Kh8,Qd7,Qf6,Ba5,Rf7,Qxf7,Qxf7,Rxb8,fxe4,Bxe4,Qa7,Rfb1,Qxa5,Bd5,Kg7,R1b7+,Kf6', 'Rf8+,Bf7,Rbxf7#', 'https://lichess.org/training/UDtCy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udTj5', 'Rapid', 'mauriciojimenez', 1628, 'KylianMbappe2019', 1652, 'd4,e6,c4,d5,Nc3,dxc4,e3,c5,Bxc4,Nf6,Nf3,Nc6,O-O,a6,a3,b5,Bb3,c4,Bc2,Bb7,e4,Ne7,e5,Nfd5,Bg5,Nxc3,bxc3,h6,Bh4,g5,Bg3,Rg8,h3,Nd5,Qd2,g4,hxg4,Rxg4,Nh2,Rg8,Nf3,f6,Bh4,Nc7,Bxf6,Qd5,Qf4', 'Qxf3,Qxf3,Bxf3', 'https://lichess.org/training/udTj5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDTwl', 'Blitz', 'Ronaldo59', 1975, 'MarciArabia', 1972, 'd4,Nf6,Bf4,d6,e3,Bf5,Bd3,Bxd3,cxd3,Nc6,Nc3,e5,dxe5,dxe5,Bg5,h6,Bh4,g5,Bg3,Bb4,Qb3,Qd6,a3,Bxc3+,Qxc3,O-O-O,Rd1,Nh5,Nf3,Nxg3,hxg3,f6,d4,exd4,Nxd4,Nxd4,Qxd4,Qxd4,Rxd4,Rxd4,exd4,Kd7,Kd2,Kd6,Kc3,a5,Re1,b5,b4,a4,f4,g4,f5,h5,Re6+,Kd7,Rxf6,h4,gxh4,Rxh4,Rg6,c6,g3,Rh5,Rxg4,Rxf5,Re4,Rf3+,Kb2,Rxg3,Rh4,Rb3+,Ka2,Kd6,Rh8,Kd5,Rd8+,Kc4,Rc8,Kxd4,Rxc6,Kd3,Rc5,Rc3,Rxb5,Kc2,Ra5,Rg3,Rxa4,Rg2,Ra8,Kc3+,Ka1', 'Kb3,Rc8,Rg1+,Rc1,Rxc1#', 'https://lichess.org/training/UDTwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDuXC', 'Blitz', 'dr_sanati57', 1701, 'KRAUTENKRAPPFEN', 1739, 'd4,e5,d5,c6,c4,cxd5,cxd5,Bc5,e4,d6,Nc3,f5,a3,Nf6,Bg5,O-O,Nf3,h6,Bxf6,Qxf6,Bd3,f4,O-O,Bg4,h3,Bh5,b4,Bb6,Na4,Bd4,Rc1,a6,Be2,b5,Nxd4,exd4,Bxh5,bxa4,Rc7,Qg5,Bg4,h5,Be6+,Kh8,Rb7,f3,g3,h4,g4,Rf4,Qc1,Nd7,Rxd7,Re8,Rxd6,Rxe6,Rxe6,Rxg4+,Kh2', 'Rg2+,Kh1,Rh2+,Kxh2,Qg2#', 'https://lichess.org/training/UDuXC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UDUZw', 'Rapid', 'Khalifa111', 1738, 'Juan_Serapio', 1737, 'd4,Nf6,c4,g6,e4,d6,Nc3,Bg7,f3,O-O,Bd3,e5,d5,c6,Nge2,Nh5,Be3,Na6,a3,Nc5,Bc2,f5,b4,f4,Bxc5,dxc5,bxc5,Bd7,dxc6,Bxc6,Nd5,Qh4+,Kf1,Ng3+,Nxg3,fxg3,Kg1,gxh2+,Rxh2,Qg5,Kf2,Rad8,Qh1,h5,Rd1,Bxd5,cxd5,Bh6,g4,Qe3+,Kg3,Rxf3+', 'Qxf3,Bf4+,Kg2,Qxf3+,Kxf3', 'https://lichess.org/training/UDUZw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uDVdI', 'Rapid', 'tmkpr', 1784, 'ioanisd', 1821, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Bc5,Bc4,h6,O-O,Nf6,Nbd2,O-O,h3,Re8,c3,a6,Re1,b5,Bb3,Qb6,Qe2,Kh8,Bc2,d5,exd5,Nxd5,Be4,Nf4,Qf1,Bb7,Nb3,Bf8,Bxf4,exf4,Rad1,Rad8,Bxc6,Bxc6,Nbd4,Bb7,Ne5,Kg8,Qe2,f6,Qg4,fxe5,Nf5,Rxd1,Rxd1,Be4,Nxh6+,Kh7,Nf7,Bg6,Ng5+,Kg8,Nf3,Qe6,Qh4,e4,Nd4,Qd5,Qxf4,Bd6,Qe3,Bc5,a3,Bxd4,Rxd4,Qc5,Kf1,Qe5,Kg1,Qf5,Rd6,a5,Kf1,Bf7,Kg1,Bc4,Rd4,Bd3', 'Rxd3,exd3,Qxe8+', 'https://lichess.org/training/uDVdI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uDwac', 'Rapid', 'OkanTag', 1670, 'heeltydspeeltyd', 1698, 'e4,d6,d4,Nd7,Nc3,c6,Nf3,h6,h3,Qc7,a3,e5,d5,Ngf6,Bc4,g5,Nh2,Be7,Be3,Nf8,Ng4,Nxg4,hxg4,Ng6,g3,Bd7,Be2,c5,Bb5,Bxb5,Nxb5,Qa5+,Nc3,b5,Bd2,b4,axb4,Qxb4,Na4', 'Qxe4+,Qe2,Qxh1+', 'https://lichess.org/training/uDwac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uDWDp', 'Rapid', 'kirito18', 1855, 'Neongelb3000', 1852, 'e4,c5,c3,e6,d4,Nf6,Bg5,Be7,e5,Nd5,Bxe7,Nxe7,Nf3,cxd4,cxd4,O-O,Be2,Nf5,O-O,Nc6,d5,Nce7,d6,Nd5,Nc3,f6,Nxd5,exd5,Qxd5+,Kh8,exf6,Qxf6,Bd3,Qxd6,Qxd6,Nxd6,Rad1,Ne8,Bc4,Nf6,Ng5,b6,Nf7+,Kg8,Ne5+,Kh8,Rfe1,a6,g4,b5,Bb3,Ra7,g5,Nh5,Nf7+,Kg8,Nd6+,Kh8,Nxc8,Rxc8,Re7,Rd8,Rde1,g6,R1e4,Rc7', 'Re8+,Rxe8,Rxe8+,Kg7,Rg8#', 'https://lichess.org/training/uDWDp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uDXCX', 'Rapid', 'Newzujalica', 1944, 'sasha20021111', 1507, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Qe3,Bg4,Nc3,Nf6,Bd2,Qe7,Bb5,g6,Bxc6+,bxc6,h3,Bxf3,Qxf3,Bg7,O-O,O-O,Rfe1,Qd7,Rad1,Rfe8,Bg5,Re6,e5,Ne8,Qg3,f6,exf6,Bxf6,Bxf6,Nxf6,f3,Rae8,Rxe6,Rxe6,Re1,Kf7,Rxe6,Qxe6,Qf2,Nd5,Qe2,Nxc3,Qxe6+,Kxe6,bxc3,Kd5,Kf2,Kc4,g4,Kxc3,f4,d5', 'f5,gxf5,gxf5,Kxc2,f6,d4,f7,d3,f8=Q', 'https://lichess.org/training/uDXCX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uDXq1', 'Rapid', 'osridhar', 2005, 'andreataranto', 1964, 'd4,Nf6,c4,e6,Nc3,Bb4,Qb3,Bxc3+,Qxc3,d5,Bg5,O-O,e3,Nbd7,c5,h6,Bh4,g5,Bg3,Ne4,Qc2,a6,Bd3,Ndf6,Ne2,c6,Be5,Ng4,Bg3,Qa5+,Nc3,Nxc3,bxc3,h5,h3,Nh6,O-O,Qd8,Bd6,Re8,Bh7+,Kg7,f4,g4,hxg4,hxg4,Bd3,Qh4,Qf2', 'g3,Qxg3+,Qxg3', 'https://lichess.org/training/uDXq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uDyy9', 'Rapid', 'Gudmur', 1986, 'todd36', 2009, 'e4,c5,Nf3,g6,Bc4,Bg7,d4,cxd4,Nxd4,Nc6,c3,a6,O-O,b5,Bd5,Bb7,f4,Nf6,Nd2,Qb6,Bxc6,Bxc6,e5,Nd5,Ne4,O-O,Kh1,Bb7,Qg4,Qc7,Qh4,b4,Rf3,bxc3,Rh3,h6,f5,h5,f6,exf6,exf6,Bh8,Rg3,Nf4,Bxf4,cxb2,Rb1,Qc4,Qxh5,Bxe4,Nf5,Bxf5,Qxf5,Rac8', 'Rxg6+,fxg6,Qxg6+,Bg7,Qxg7#', 'https://lichess.org/training/uDyy9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('udzlf', 'Rapid', 'DzikieSzachy', 1636, 'thenowhereman', 1820, 'e4,c5,Nc3,e6,d4,cxd4,Qxd4,a6,e5,Nc6,Qe3,Qc7,f4,Nb4,Bd3,Nxd3+,Qxd3,b5,Be3,Bb7,Nf3,d5,f5,Rd8,fxe6,fxe6,Ng5,Qxe5,O-O-O,Nf6,Rde1,d4,Bxd4,Qxd4,Rxe6+,Be7,Qe2,Qc5,Re1,Rd7,Nce4,Nxe4,Nxe4,Bxe4,Qxe4,Kd8,Qa8+,Qc8,Rxa6,Bf6', 'Qxc8+,Kxc8,Ra8+,Kb7,Rxh8', 'https://lichess.org/training/udzlf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UdzLW', 'Classical', 'KevBull', 1936, 'Sciugar6', 1797, 'e4,c5,Nf3,Nc6,c3,e6,d4,d5,e5,cxd4,cxd4,Bb4+,Nbd2,Nge7,Bd3,Qb6,Qa4,O-O,O-O,Bxd2,Bxd2,Qxb2,Rab1,Qxb1,Rxb1,Nf5,Bxf5,exf5,h4,a6,Bb4,b5,Qc2,Nxb4,Rxb4,Be6,a4,Rfc8,Qb2,bxa4,Rxa4,h6,Ra5,Rab8,Qa3,f4,Rxa6,Rb1+,Kh2,Rcc1,g3', 'Rh1+,Kg2,Bh3#', 'https://lichess.org/training/UdzLW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UdzOX', 'Rapid', 'Cutiebumbum', 1614, 'shreemalda', 1605, 'c4,Nf6,e3,g6,d4,Bg7,Nc3,O-O,Bd3,d5,Nge2,dxc4,Bxc4,Bg4,h3,Bxe2,Qxe2,Nc6,O-O,a6,a3,b5,Bb3,Re8,d5,Na7,a4,e6,Rd1,Qb8,dxe6,fxe6,e4,Kh8,Bg5,b4,e5,Ng8,Nb1,a5,Nd2,c5,Nc4,Rf8,Nd6,Nc6,Bxe6,Nxe5,Bd5,Ra7,f4,Qxd6,Bxg8,Qb8,fxe5,Rxg8,Rd5,Rf7,Rad1,Rgf8,Rd8,Rxd8', 'Rxd8+,Qxd8,Bxd8', 'https://lichess.org/training/UdzOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UE0VP', 'Rapid', 'MoDL', 1888, 'BetaCaroteno', 1909, 'e4,e6,d4,d5,Nd2,c5,Ngf3,Qc7,c3,c4,Be2,Nc6,Qc2,Nce7,Nf1,Ng6,Ng3,h5,h4,Bd7,Be3,dxe4,Nxe4,Rd8,O-O-O,Bc6,Neg5,N8e7,Bxc4,Bxf3,Bb5+,Bc6,Bxc6+,Qxc6,g4,Nd5,gxh5,Nxe3,fxe3,Ne7,Qf2,f6,Nh3,Rxh5,Nf4,Rf5,Qc2,Nd5,Nxd5,Qxd5', 'e4,Qxa2,exf5', 'https://lichess.org/training/UE0VP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uE1Yk', 'Rapid', 'And1303', 2070, 'klassik_1', 1714, 'd4,e6,c4,Nf6,Nc3,d5,e3,dxc4,Bxc4,Bd6,Nge2,O-O,O-O,a6,f3,b5,Bd3,Bb7,a3,Nd5,Qc2,Qh4,g3,Qh5,Ne4,f5,Nxd6,cxd6,Qd1,Rf6,Rf2,Nd7,Kg2,e5,Ng1,f4,g4,Qh4,e4,Ne3+,Bxe3,fxe3,Rc2,Raf8,d5,Nc5,b4,Nxd3,Qxd3,Rh6,Kh1,Qg5,Re2,Qf4,Qxe3', 'Rxh2+,Rxh2,Qxe3', 'https://lichess.org/training/uE1Yk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UE2lu', 'Blitz', 'm5262', 1871, 'thedoktor97', 1899, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,Be2,e4,c4,Qf5,Nd4,Qf6,Nc2,Bc5,O-O,Qg6,d3,Bh3,g3,h5,Re1,h4,Ne3,hxg3,fxg3,exd3,b4,Bd4,Bxd3,Qc6,Re2,O-O,Bb2', 'Bxe3+,Rxe3,Qg2#', 'https://lichess.org/training/UE2lu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ue382', 'Rapid', 'Amar_shukla', 1754, 'ddd60', 1697, 'e4,e5,Nf3,f6,Bc4,Nc6,Nh4,d6,Qh5+,g6', 'Nxg6,hxg6,Qxh8', 'https://lichess.org/training/Ue382');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ue6pL', 'Rapid', 'yoavgit', 1732, 'superslyer', 1701, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,a6,Nc3,d6,Bd3,Qa5,f4,e5,Nxc6,bxc6,f5,h6,O-O,Nf6,Qf3,Bb7,b4,Qc7,Bc4,c5,bxc5,dxc5,Nd5,Bxd5,exd5,O-O-O,Bxa6+,Kd7,Bb5+,Kd6,Bc6,Rb8,a4,Be7,a5,Ra8,Rfb1,Rxa5,Rxa5,Qxa5,Rb5', 'Qe1+,Qf1,Qxe3+', 'https://lichess.org/training/ue6pL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ue8rx', 'Rapid', 'PhilCollins07', 1611, 'Wka', 1661, 'd4,d5,c4,Nf6,Nc3,e6,a3,Bd7,Nf3,c5,Qb3,Bc6,cxd5,exd5,Bg5,Be7,Bf4,O-O,e3,c4,Qd1,h6,b3,b5,Ne5,a6,Nxc6,Nxc6,bxc4,bxc4,g3,Ne4,Nxe4,dxe4,Bxc4,Qa5+,Qd2', 'Bb4,axb4,Qxa1+', 'https://lichess.org/training/Ue8rx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uE8zL', 'Rapid', 'Vahan7', 1771, 'goulin', 1761, 'e4,e6,f4,d5,exd5,exd5,Nf3,Bd6,d4,Nf6,Ne5,O-O,c3,Ne4,g3,f6,Nf3,Re8,Be2,Bg4,O-O,c5,Bd3,c4,Be2,b5,b3,b4,bxc4,dxc4,Bxc4+,Kf8,Qb3,a5,Bg8,Qe7,Nfd2,Be6,Bxe6,Qxe6,c4,Nxd2,Bxd2,Qe4,Qb2,Nc6,c5,Bc7,Re1,Qxd4+,Qxd4,Rxe1+,Bxe1,Nxd4,Nd2,Re8,Bf2,Ne2+,Kf1,Nc3,a3,Rd8,Ke1,Re8+,Kf1,Bb8,Nc4,Bc7,f5,Re2,Rc1,Ra2,h3,g6,fxg6,hxg6,g4,Bf4,Re1,b3,Bd4,Be5,Nxe5,fxe5,Bxc3,Rxa3,Bxe5,Ra2,c6,Rc2,Bd6+,Kf7,Be5,Rxc6,Rb1,a4,Ke2', 'Re6,Kd2,Rxe5', 'https://lichess.org/training/uE8zL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEAd9', 'Rapid', 'BlunderJack', 1847, 'eltucutuco', 1930, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be3,g6,f3,Bg7,Qd2,h5,O-O-O,a6,Kb1,Bd7,Be2,b5,h3,Qa5,Nb3,Qc7,g4,hxg4,hxg4,Rxh1,Rxh1,e6,Bh6,Bxh6,Qxh6,Ke7,g5,Nh5,f4,Ng3,Qg7,Be8,Qf6+,Kd7,Rd1,Ne7,Bxb5+,axb5,Nxb5,Nxe4,Qd4,Qc6,c4,Nf5,Qd3,Nf2,Qd2,Nxd1,Qxd1,Ke7,Qd3,Ra4,c5,Rxf4,cxd6+,Nxd6,Nxd6,Qxd6,Qe3,Qd1+,Qc1,Qxc1+,Kxc1,Rf1+,Kc2,Rf2+,Kc3,Rf3+,Kc2,Rxb3,Kxb3,e5,Kc3,Bc6,b4,e4,a3,Kd6,Kd4,Bb7,a4,Ke6,a5,f5,b5,f4,a6,Ba8,b6,Kd6', 'b7,Bxb7,axb7,Kc7,Kxe4,f3,Kxf3', 'https://lichess.org/training/uEAd9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UeC2I', 'Rapid', 'Marucha', 2039, 'Mirron', 2054, 'Nf3,d5,g3,c6,Bg2,Nf6,b3,Bf5,Bb2,Nbd7,d3,e6,Nbd2,h6,h4,Bd6,c4,Qc7,Qc2,Bxg3,fxg3,Qxg3+,Kf1,Ng4,Bd4,Ndf6,Rh3,Qf4,Qc3,e5,Bxe5,Ne3+,Kg1,Qg4,Rg3,Qh5,Bxf6,gxf6,Qxf6,Kd7,cxd5,Nxd5,Ne5+,Kc7,Qxf7+,Qxf7,Nxf7,Rhf8,Nxh6,Be6,Bxd5,Bxd5,e4,Be6,Rg7+,Kb6,Nc4+,Ka6,Rf1,Rfd8,Nf5,Rxd3,Nfd6,b5,Re7,Bxc4,bxc4,Rxd6,cxb5+,cxb5,e5,Rg8+,Kf2,Rd2+,Ke3,Rxa2', 'Rf6+,Ka5,Rxa7+', 'https://lichess.org/training/UeC2I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEChc', 'Blitz', 'Pancarlsen', 2254, 'NM Goldfinger007', 2155, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Bd3,dxc4,Bxc4,Qxd4,Bd3,Qg4,Qxg4,Bxg4,f3,Bd7,Nge2,e5,O-O,Bc5+,Kh1,O-O,a3,Rfd8,Bg5,Be6,Bb5,Be7,Rad1,h6,Be3,Nd5,Nxd5,Bxd5,Nc3,Bb3,Rxd8+,Rxd8,Bxc6,bxc6,Bxa7,Rd2,Rb1,f5,h3,Bf6,Bc5,Bc2,Rc1,e4,fxe4,fxe4,Bb4,e3,Kg1,e2,Kf2,Bd4+,Ke1,Be3,Nxe2', 'Rxe2+,Kxe2,Bxc1', 'https://lichess.org/training/uEChc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uecn7', 'Classical', 'ballcat', 1703, 'bookrey', 1690, 'f4,c5,Nf3,f6,b3,Nc6,e4,e5,fxe5,fxe5,Bb2,Nd4,c4,Nxf3+,Qxf3,d6,Nc3,Be6,O-O-O,Nf6,Qe3,Be7,Be2,O-O,Nd5,Bg4', 'Nxf6+,Rxf6,Bxg4', 'https://lichess.org/training/uecn7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEDdw', 'Blitz', 'MasterJohn7', 1658, 'chess7312', 1856, 'd4,Nf6,Nf3,g6,Nc3,Bg7,Bf4,d5,e3,O-O,Bd3,c5,dxc5,Qa5,h4,Qxc5,Be5,Nc6,Bxf6,Bxf6,Qd2,Bg4,Nh2,Bd7,h5,e5,hxg6,fxg6,Be2,Rad8,Ng4,Bxg4,Bxg4,d4,exd4,Rxd4,Be6+,Kg7', 'Qh6+,Kh8,Qxh7#', 'https://lichess.org/training/uEDdw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uedeS', 'Blitz', 'oktay', 1608, 'normality', 1624, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,cxb2,Bxb2,e6,Nf3,Nc6,O-O,Bc5,Nbd2,Nf6,e5,Ng8,Ne4,Bb6,Nd6+,Kf8,Ba3,Nge7,Ng5,Nxe5,Qe2,N7g6,Nxb7+,Ke8,Nxd8,Kxd8,Bb5,Bb7,Kh1,Rc8,f4,Nc6,Nxf7+,Kc7,Nxh8,Rxh8,f5,exf5,Rxf5,Nd4,Qc4+,Bc6,Rf7,Nxb5,Rc1,Ne5,Rxd7+,Kxd7,Qb3,Kc7,Bb2,Re8,Bxe5+,Rxe5,Qg3,Kd6,Rd1+,Bd5,Qxg7,Nc3,Qf8+,Ke6,Rc1,Ne2,Qe8+,Kd6,Qf8+,Ke6,Rd1', 'Ng3+,hxg3,Rh5#', 'https://lichess.org/training/uedeS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UEDZ7', 'Rapid', 'Abishnaaaa', 1886, 'varunvar', 2258, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,O-O,d6,d3,h6,h3,g5,Nd5,Nxd5,Bxd5,g4,hxg4,Bxg4,Be3,Qf6,Bxc5,dxc5,Bxc6+,bxc6,Re1,Rg8,Re3,O-O-O,c3,Rg5,Kf1,Rh5,Qa4', 'Rh1+,Ke2,Rxa1', 'https://lichess.org/training/UEDZ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ueFdm', 'Bullet', 'DavidMares', 1725, 'SICA-A', 1779, 'e4,c6,d4,d5,f3,dxe4,fxe4,e6,Nf3,Nf6,e5,Ng8,c4,Ne7,Bd3,Ng6,O-O,Nd7,Bg5,Be7,Bxe7,Qxe7,Nc3,O-O,d5,cxd5,cxd5,exd5,Nxd5', 'Qc5+,Rf2,Qxd5,Bxg6,Qxd1+', 'https://lichess.org/training/ueFdm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ueglA', 'Rapid', 'Leha83', 1870, 'jonvalsa', 2167, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,f6,O-O,fxe5,Nxe5,Nxe5,dxe5,Qc7,f4,Nh6,Nd2,Be7,Nf3,Nf5,Bd3,O-O,Bxf5,Rxf5,Qe1,Bc6,a3,Bb5,Rf2,Raf8,b4,c4,Nd4,Bd7,Nxf5,Rxf5,Rf3,d4,cxd4,Bc6,Rh3,Qd7,Qc3,Qd5,Ra2,Bd8,a4,Bb6,b5', 'Bxd4+,Qxd4,Qxd4+', 'https://lichess.org/training/ueglA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UeH6m', 'Rapid', 'razcvet', 1641, 'Sculler', 1714, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,d3,Nc6,Nc3,e6,Bf4,Nf6,a3,Be7,h3,O-O,O-O,h6,Qd2,a6,Ne2,g5,Bg3,Nh5,Bh2,Bd6,Bxd6,Qxd6,Nxg5,hxg5,Qxg5+,Ng7,Nf4,e5', 'Nh5,Qg6,Nf6+,Kh8,Qh4+', 'https://lichess.org/training/UeH6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ueI4G', 'Rapid', 'jefer1218', 1726, 'Brq4no', 1795, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,e6,Nxc6,bxc6,g3,Bc5,Qe2,Qb6,Bg2,Ne7,Na4,Qb4+,Nc3,d5,a3,Qa5,O-O,d4,Na2,Qc7,b4,Ba7,Bb2,e5,Kh1,O-O,f4,f6,fxe5,fxe5,Rxf8+,Kxf8,Qf3+,Kg8,Rf1,Ng6,Nc1,Be6,Qh5,Bc4,Rf3,c5,Nd3,cxb4,axb4,Bb5,Nxe5,Nxe5,Rf4,Ng6', 'Qd5+,Kh8,Qxa8+', 'https://lichess.org/training/ueI4G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uei4n', 'Blitz', 'IkerBartolome', 1666, 'Jopocla2020', 1786, 'e4,e5,Nf3,Nc6,Bb5,a6,Bc4,b5,Bb3,Nf6,Nc3,d6,d3,h6,O-O,g5,h3,Rg8,Be3,Qe7,d4,exd4,Bxd4,b4,Bxf6,Qxf6,Nd5,Qxb2,Nxb4,Nxb4,Rb1,Qc3,a3,Nxc2,Bxc2,Bb7,Rxb7,g4,hxg4,Rxg4,Rb3,Qg7,Rb7,Rxg2+,Kh1,d5,Rxc7,Bd6,Rc6,Bf4,exd5,Qg4,Rg1', 'Qh3+,Nh2,Qxh2#', 'https://lichess.org/training/uei4n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEImZ', 'Blitz', 'jeffar', 1746, 'anatoliuss', 1755, 'e4,d5,exd5,Qxd5,c4,Qd8,Nf3,e6,d4,Nf6,Bd3,c5,dxc5,Bxc5,O-O,Nc6,Nc3,b6,Be3,Bxe3,fxe3,Bb7,a3,O-O,b4,Rc8,b5,Na5,Ne5,Nd7,Nxd7,Qxd7,Qh5,Qxd3,Rad1,Qxc3,Rf4,Qxe3+,Rf2,Rxc4', 'Qxf7+,Rxf7,Rd8+,Rf8,Rxf8#', 'https://lichess.org/training/uEImZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UEip9', 'Rapid', 'Buernmacker', 1826, 'moon44', 1852, 'd4,Nf6,e3,c5,Nf3,g6,Be2,Bg7,O-O,d6,b3,O-O,Bb2,b6,d5,Bb7,c4,Nbd7,a4,a6,Qc2,e5,e4,Nh5,g3,f5,Nh4,f4,Bxh5,gxh5,Nd2,Qg5,Ndf3,Qg4,Kg2,Bf6,h3,Qg7,Nf5,Qg6,N3h4,Bxh4,Nxh4,Qg7,Qe2,Nf6,Nf5,Qg5,Nxd6,Bc8,Nxc8,Raxc8,Rad1,Rc7,Bc3,Rcf7,d6,Nd7,a5', 'f3+,Qxf3,Rxf3', 'https://lichess.org/training/UEip9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEJAa', 'Rapid', 'mileAdam', 1789, 'yankar', 1849, 'e4,c5,c4,e6,Nc3,a6,g3,Nc6,Bg2,e5,d3,d6,Nge2,Be6,Be3,Be7,O-O,Nf6,Nd5,Ng4,h3,Nxe3,Nxe3,Qd7,Kh2,O-O,f4,f5,Nd5,Bxd5,exd5,Nd4,Nxd4,cxd4,fxe5,dxe5,Qe2,Bd6,a3,b6,b4,Rac8,Rac1,Rfe8,h4,g6,Bh3,e4,dxe4,Rxe4', 'Qxe4,fxe4,Bxd7', 'https://lichess.org/training/uEJAa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UEJAE', 'Rapid', 'tdoults', 2055, 'Matt3_1415', 2039, 'e4,d5,exd5,Nf6,d4,Bg4,Nf3,Qxd5,Be2,Nc6,c4,Qa5+,Bd2,Qb6', 'c5,Qxb2,Bc3', 'https://lichess.org/training/UEJAE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEjRV', 'Rapid', 'lizzo81', 1742, 'mutiks', 1810, 'e4,g6,d4,Bg7,e5,d6,Nf3,dxe5,dxe5,Qxd1+,Kxd1,Bg4,Be2,Bxf3,Bxf3,Nc6,Bxc6+,bxc6,f4,f6,Re1,fxe5,fxe5,O-O-O+,Bd2,Bh6,Re2,Rd5,Nc3,Bxd2,Rxd2,Rxe5,b3,Nf6,Kc1,Ne4', 'Re2,Nxc3,Rxe5', 'https://lichess.org/training/uEjRV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEk1v', 'Rapid', 'lion_sta', 1838, 'Alimond', 1700, 'e4,e5,Bc4,d6,c3,Qd7,b4,Nc6,Nf3,Nf6,d3,h6,h3,Ne7,Qb3,Ng6,a4,b6,Bb5,c6,Bc4,a6,Qc2,Nh5,Be3,Rb8,g4,Nhf4,Bxf4,Nxf4,Nh4,Be7,Nf5,O-O,Nd2,d5,exd5,cxd5,Bb3,Bf6,Nf3,Bb7,d4,Rbe8,O-O-O,exd4,N5xd4,Ng2,Rhg1,Nf4,g5,hxg5,Rde1,Rc8,Kb2,Rc7,Qd2,Rfc8,Nxg5,Qd6,Nf5,Bxc3+', 'Qxc3,Rxc3,Nxd6', 'https://lichess.org/training/uEk1v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEkP8', 'Rapid', 'FVERA', 1711, 'jaz7', 1959, 'e4,c5,Nf3,Nc6,b3,e6,Bb2,Nge7,d4,cxd4,Nxd4,a6,c4,Ng6,Nxc6,bxc6,g3,Bb7,Bg2,e5,O-O,Be7,f4,d6,f5,Nf8,Ba3,Qc7,Nc3,Nd7,Qg4,g6,fxg6,fxg6,Rad1,Nf6,Rxf6,Bxf6,Rxd6,Bc8,Qf3,Be7,Qd1,Bxd6,Bxd6,Qd7,Na4,Qg4,Bf3,Qg5,Nc5,Ra7,Na4,Bd7,Nb6,Qe3+,Kg2,Qxb6,c5,Qb4,Bxe5,Qxc5,Bxh8,a5', 'Bd4,Qa3,Bxa7', 'https://lichess.org/training/uEkP8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ueL8w', 'Rapid', 'jgarvik', 2008, 'mahd514', 2216, 'e4,c5,Nf3,d6,Nc3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Be7,O-O,a6,a4,O-O,Kh1,Qc7,f4,Nc6,Nxc6,Qxc6,Qe2,e5,fxe5,dxe5,Bg5,Bg4,Qe3,Bh5,Bxf6,Bxf6,Nd5,Bd8,b4,Bg6,a5,Rc8,Rae1,Qe6,Qe2,Rc6,Bc4,Qc8,Bd3,Qe6,c4,b6,axb6,Bxb6,b5,axb5,cxb5,Rc5,Rc1,Rfc8,Rxc5,Bxc5,Bc4,Qd7,Rd1,Qb7,Qg4,Kf8,h4,h5,Qf3,Bd4,Bd3,Rc5,Nb4,Rc3,Nd5,Rc5,Nb4,Rc3,Nd5,Ra3,Nb4,Qe7,Nc6,Qxh4+,Qh3,Qxh3+,gxh3,Ke8,Nb4,Kd7,Nd5,Kc8,Ne7+,Kb7,Nxg6,fxg6,Kg2,g5,Bc4,Kb6,Rb1,Re3,Bd5,h4,Bc6,Rg3+,Kh2,g4,hxg4,Rxg4,Rb3,Rf4,Ra3,g5,Ra6+,Kc7,Ra8,g4,Rh8,Bf2,Rh7+,Kb8,b6,h3', 'Rh8+,Rf8,Rxf8#', 'https://lichess.org/training/ueL8w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UelIV', 'Classical', 'AVFru', 1625, 'Hossein1386', 1660, 'e4,c6,Nf3,d5,exd5,cxd5,Ne5,Nc6,Bb5,Bd7,Bxc6,Bxc6,d4,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/UelIV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ueLVm', 'Classical', 'Baselmercy', 1893, 'Gorillak2', 1896, 'Nf3,Nc6,c4,e5,d3,Bb4+,Bd2,d6,g3,f5,Bxb4,Nxb4,Nc3,Nf6,e4,fxe4,dxe4,O-O,Bg2,Bg4,O-O,Nc6,h3,Be6,b3,h6,Rc1,Qd7,Kh2,a6,Qe2,Qf7,Nd5,Nd4,Nxd4,exd4,f4,c6,f5,Bxd5,cxd5,c5,e5,Nxd5', 'e6,Qe7,Bxd5', 'https://lichess.org/training/ueLVm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ueo4W', 'Blitz', 'IM www68', 2494, 'Sergey2009', 2085, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nd2,d6,c4,Be7,Bd3,O-O,O-O,a6,b3,Nbd7,Bb2,Qb6,Re1,Qa7,h3,Ne5,Bf1,Bd7,f4,Nc6,e5,Nxd4,Kh2,dxe5,fxe5,Ne8,Ne4,Bc6,Bxd4,Qb8,Qg4,Bxe4,Qxe4,Nc7,Bd3,g6,Kh1,Rd8,Bc3,Ne8,Bc2,Qc7,Qf4,Bf8,Rf1,Bg7,Rae1,Rd7,Qf3,Rc8,h4,Qc6,Be4,Qb6,h5,Qc7,hxg6,hxg6,g4,Qb6,Kg2,Nc7,Re2,Qc5,Rh1,Ne8,Qh3,a5,Rf2,Nc7,Qh7+,Kf8,Qxg6', 'Qxf2+,Kxf2,fxg6', 'https://lichess.org/training/Ueo4W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UeOgs', 'Classical', 'Hospetal', 1788, 'Centro23', 1784, 'e4,e5,d4,Nf6,Bg5,Be7,dxe5,Nxe4,Be3,O-O,Bd3,d5,Nf3,Nc6,c3,Bg4,h3,Bxf3,gxf3,Nc5,f4,Nxd3+,Qxd3,Na5,Na3,Bxa3,bxa3,Nc4,Bc1,Qd7,Rb1,b6,Rg1,Rad8,f5,Rfe8,e6,fxe6,f6,g6', 'Rxg6+,Kh8,Rg7,Qxg7,fxg7+', 'https://lichess.org/training/UeOgs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UePeG', 'Rapid', 'behzadh2015', 1740, 'Serioga', 1667, 'e3,e5,b3,d6,Bb2,h6,Nf3,a6,Be2,Nf6,Nc3,c6,Na4,Be6,a3,b5,Nc3,g5,d3,g4,Nd2,h5,Nde4,Nxe4,Nxe4,Nd7,d4,Bf5,Bd3,d5,Ng3,Bxd3,Qxd3,e4,Qd2,h4,Ne2,Qf6,c4,g3,fxg3,hxg3,h3,Qf2+,Kd1,bxc4,bxc4,Qxg2,Kc2,Rxh3,Rxh3,Qxh3,Nf4,Qg4,cxd5,cxd5,Nxd5,Rc8+,Kb1,g2,Ka2,g1=Q,Rxg1,Qxg1,Nc3,Qg6,Na4,f5,Qa5,Rc2,Qd5,Re2,Qa8+,Ke7,Qd5,Rxe3,Nc3,f4,Qb3,Kd8,Bc1,Rd3,Bxf4,Rxd4,Bc1,Qg2+,Bb2,e3,Nd1,Rd2,Nxe3,Qe2,Nc4,Nc5,Qb6+,Ke8,Qg6+,Kd8,Qb6+,Ke8,Qc6+,Kf7,Qc7+,Kg8,Qc6,Na4', 'Qg6+,Bg7,Qxg7#', 'https://lichess.org/training/UePeG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UEqcG', 'Rapid', 'DDamir', 2014, 'Owuda', 1953, 'e4,c5,Nf3,d6,d4,cxd4,c3,dxc3,Nxc3,Nf6,Bc4,e6,O-O,Be7,Qe2,a6,Rd1,Qb6,Be3,Qc7,Na4,Nbd7,Rac1,Qa5,Bb3,O-O,Bd2,Qh5,h3,b5,Nc3,Nc5,Bc2,Bb7,g4,Nxg4,hxg4,Qxg4+,Kf1,Qh3+,Kg1,Qg4+,Kh2,f5,Ng1,Qh4+,Nh3,fxe4,b4,e3,Bxe3,Bf3,Qf1,d5,Bxc5,Bf6,Bd6,Bxc3,Qd3,Rac8,Bg3,Qh5,Rg1,Be4,Qd1,Qxd1,Bxd1,Bxb4,Rxc8,Rxc8,Bg4,Kf7,Ng5+,Kf6,Nxe6,h5,Bh3,Rc2,Nd4,Rxa2,Bh4+,Ke5', 'Nc6+,Kd6,Nxb4', 'https://lichess.org/training/UEqcG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEr36', 'Rapid', 'Gunduzaghayev', 1806, 'tudorconstantin', 1775, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,b4,Bb6,Qb3,Qf6,O-O,Be6,a4,Bxc4,Qxc4,a5,b5,Nce7,d3,h6,Nbd2,Qg6,Bb2,Nf6,Rae1,O-O,d4,Nh5,Nh4,Qh7,dxe5,dxe5,Ba3,Rfe8,Nf5,Nxf5,exf5,Qxf5,Kh1,Nf4,Ne4,Qg4,Ng3,h5,h3,Qc8,Qe4,Nxh3,Kh2,Nxf2,Qf3,Ng4+,Kh1,Nf6,Nxh5,Nxh5', 'Qxf7+,Kh8,Qxh5+', 'https://lichess.org/training/uEr36');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uerTF', 'Blitz', 'MohamedHazem2002', 1507, 'DarkhanYertulekov', 1599, 'e4,c5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,Nc3,Ba6,d3,c4,O-O,cxd3,cxd3,Nf6,Re1,g6,Bg5,Bg7,Qd2,O-O,Bh6,Bxh6,Qxh6,Bxd3,Rad1,Ba6,e5,Ng4,Qg5,f5,exf6,Nxf6,Qh4,Qb6,Ng5,Qxb2,Rxe7,Qxc3,Rxh7,Qc2,Rh8+,Kg7,Rh7+,Kg8', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/uerTF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UEs2D', 'Rapid', 'josegregorio', 1971, 'OrbiticS', 2102, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Nf6,Qe2,d5,e5,Ne4,Bd2,Bxc3,bxc3,O-O,O-O,c5,Rfe1,Nc6,Bxe4,dxe4,Ng5,cxd4,cxd4,Nxd4,Qh5,h6,Nxe4,Nxc2,Bxh6,Bxe4,Rxe4,f5,Rh4,Qe8,Qg5,Rf7,Rc1,Rc8,Bxg7,Rxg7,Qh6,Qd7,Qh8+,Kf7,Qh6,Qb7', 'Qf6+,Kg8,Qxe6+', 'https://lichess.org/training/UEs2D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UESAt', 'Blitz', 'LANATER2020', 2417, 'roquemaspoli', 2260, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Bd3,Bd7,O-O,Nge7,dxc5,Ng6,Re1,Bxc5,a3,a5,c3,O-O,g3,Qc7,Qe2,f6,Bxg6,hxg6,Bf4,Qb6,exf6,gxf6,h4,e5,Bh6,Rf7,Nbd2,Bg4,b4,axb4,axb4,Rxa1,Rxa1,Bd6,Be3,Qc7,Ra8+,Kg7,Qb5,e4,Bb6,Qe7,Nh2,Be6,Ndf1,f5,Ne3,f4,Nxd5,Bxd5,Qxd5,fxg3,fxg3,Bxg3,Nf1,Qxh4,Bd4+,Nxd4,Qxd4+,Kh6,Rh8+,Rh7,Qe3+,Bf4,Rxh7+,Kxh7,Qe2,Qg5+,Kf2,e3+,Nxe3,Bxe3+,Qxe3,Qf5+,Kg3,Kg7,Qe7+,Kh6,Qh4+,Kg7,Qd4+,Kh6', 'Qh8+,Kg5,Qh4#', 'https://lichess.org/training/UESAt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UEsO4', 'Rapid', 'Petrozza', 2292, 'Aleksander2006', 2332, 'e4,c6,f4,d5,e5,h5,g3,Bg4,Be2,Bxe2,Qxe2,e6,h3,c5,d3,Nc6,c3,Nge7,Be3,Nf5,Bf2,g6,Nf3,Be7,O-O,g5,fxg5,Bxg5,Kh2,d4,h4,Be3,Be1,Qc7,Na3,Nxe5,Nxe5,Qxe5,Nc4,Qc7,Rxf5,exf5,Nxe3,dxe3,Qxe3+,Qe7,Qxe7+,Kxe7,Bd2,Rhe8,Rf1,Kf6,Rf2,Kg6,Kg2,Rad8,Bf4,Rxd3,a4,a6,a5,Rd1,Bc7,Rde1,Bb6,c4,Kf3,R8e6,Rd2,Rf1+,Kg2,Rfe1,Kf3,Rb1,Kf2,f6,Kf3,Re7,Bc5,Rc7,Bb6,Rc6,Kf2,Re6,Kf3,Re5,Kf2,Rb5,Rd6,R1xb2+,Kf3,Rxb6,axb6,Rb3,Kf4,Rxc3,Rd7,Rb3,Rxb7,a5,Rb8,a4,b7,Kg7,Kxf5,a3,Ra8,Rxb7,Rxa3,Rc7,Rc3,Kf7,Ke4,Ke6,Kd4,Kf5,Ke3,Kg4,Kf2,Rc5,Kg2,f5', 'Rf3,c3,Rf4#', 'https://lichess.org/training/UEsO4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEtJD', 'Rapid', 'Chesspatzeruk-TWITCH', 2002, 'stephikem', 1847, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,d6,O-O,Ne7,d4,Bb6,d5,a6,Ba4,O-O,dxc6,Nxc6,h3,f5,Ng5,h6,Bb3+,Kh8,Nf7+,Rxf7,Bxf7,fxe4,Bd5,Qh4,Qe2,Bf5,Be3,Ne7,Bxb6,Nxd5,Be3,Rf8,Nd2,Rf6,Kh2,Rg6,c4,Rxg2+,Kxg2,Nf4+,Bxf4,Qxh3+,Kg1,exf4,Nxe4', 'f3,Qxf3,Qxf3', 'https://lichess.org/training/uEtJD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ueUct', 'Blitz', 'pieja', 1713, 'zirbes123', 1870, 'e4,d5,exd5,Nf6,Bc4,Bg4,f3,Bf5,Nc3,c6,dxc6,Nxc6,Nge2,e5,O-O,Bc5+,Kh1,O-O,Ng3,Bg6,Nce4,Nxe4,Nxe4,Bb6,d3,Kh8,c3,f5,Ng3,f4,Ne4,Bxe4,dxe4,Rf6,Qxd8+,Rxd8,b4,Rdd6,Bd5,Rh6,Bb2', 'Rxh2+,Kxh2,Rh6#', 'https://lichess.org/training/ueUct');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ueuLG', 'Rapid', 'volodq', 1684, 'dndara', 1735, 'd4,Nf6,Nf3,g6,Bg5,Bg7,h4,h6,Bf4,O-O,c3,d6,Qc1,Kh7,Ng5+,hxg5,hxg5+,Nh5,g4,e5,gxh5,exf4,Qxf4,Kg8,hxg6,fxg6,Qh4,Qe7,e3,d5,Nd2,Bf5,Bh3,Nc6,Bxf5,Rxf5,O-O-O,Kf7,Qg3,Rxg5,Qh4,Rh8,Qf4+,Rf5,Qg3,Rg5,Qf4+,Rf5,Qg3,Qd6,Qg4,Ne7,f4,Ke8,Nf3,Qf6,Ng5,Bh6,Nf3,Bg7,Ne5,Rfh5,Rxh5,Rxh5', 'Qd7+,Kf8,Qd8#', 'https://lichess.org/training/ueuLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEv3S', 'Rapid', 'arimon', 1987, 'halon28', 1847, 'e4,Nf6,Nc3,Nc6,Nf3,d5,exd5,Nxd5,Bc4,Nxc3,bxc3,e6,O-O,h6,d4,Be7,Bf4,a6,Re1,Bd6,Bxd6,cxd6,Bb3,d5,c4,Ne7,cxd5,Nxd5,c4,Nf4,d5,O-O,d6,Bd7,c5,Rc8,Qd4,Ng6,Rab1,Bc6,Ne5,Nxe5,Qxe5,Qd7,Rec1,Rfe8,Bc2,f5,Bb3,Be4,Rb2,Bd5,Bxd5,exd5,Qxd5+,Kh8,Rxb7,Qe6,Qxe6,Rxe6,Re7,Rxd6,Re5,g6,Re8+,Rxe8,cxd6,Rd8,Rd1,Rd7,h3,Kg7,g4,fxg4,hxg4,Kf6,Kg2,Ke6,Kg3,g5,f4,gxf4+,Kxf4,Rxd6', 'Rxd6+,Kxd6,Kf5,h5,gxh5', 'https://lichess.org/training/uEv3S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uevAu', 'Blitz', 'Fortalezanegra', 1530, 'cervatillo92', 1553, 'd4,d5,c3,Bf5,Nf3,e6,Qb3,b6,e3,c5,Bb5+,Nd7,Ne5,Nf6,Qa4,c4,Nxd7,Nxd7,Bc6,Rc8,Bxd7+,Qxd7,Qd1,b5,Nd2,b4,Nf3,h6,a3,bxc3,bxc3,Bd6,O-O,f6,Nh4,Bh7,Qh5+,Qf7,Qxf7+,Kxf7,Nf3,e5,dxe5,fxe5,Nd2,Bd3,Re1,e4,Bb2,a5,f3,g5,fxe4,dxe4,Nf1,a4,Rad1,Bc5,Rxd3,cxd3,Kf2,Rhf8,Nd2,Kg6+,Kg1,Rb8,Bc1,Rfe8,Nc4,Rbc8,Rf1,Bxe3+,Nxe3,Rxc3,h3,Rec8,Bb2,Rb3,Rf6+,Kh5,Be5,d2,g4+,Kh4,Ng2+,Kxh3,Rxh6+,Kxg4,Rd6,Rb1+,Kf2,d1=Q,Ne3+,Kh3', 'Rh6+,Qh5,Rxh5#', 'https://lichess.org/training/uevAu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEvi0', 'Rapid', 'CuprumS', 1908, 'marianoperez', 1990, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Qe2,e6,Nf3,Ngf6,Neg5,Be7,Nxf7,Kxf7,Ng5+,Kg8', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/uEvi0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UEw6z', 'Blitz', 'YSA_kbpl', 2369, 'FM Konek_Gorbunok', 2397, 'e4,c5,Nf3,a6,c4,d6,d4,Bg4,dxc5,Bxf3,Qxf3,dxc5,Nc3,Nc6,Be3,Nd4,Bxd4,cxd4,Nb1,e5,Qb3,Qa5+,Nd2,O-O-O,a3,Nf6,Bd3,Bb4', 'Qxb4,Qxb4,axb4', 'https://lichess.org/training/UEw6z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UEWf7', 'Rapid', 'Boshra778811', 1782, 'mechchess', 1769, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,h3,Bd7,O-O,Be7,Re1,O-O,d4,a6,Bxc6,Bxc6,dxe5,dxe5,Nxe5,Qxd1,Rxd1,Nxe4', 'Nxc6,bxc6,Nxe4', 'https://lichess.org/training/UEWf7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uExX2', 'Rapid', 'Der-Wir-Ing', 1784, 'EmilioBiroBiro', 1783, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,e6,Nc3,Nge7,Be2,O-O,O-O,d5,cxd5,exd5,exd5,Nxd5,Nxc6,bxc6,Nxd5,Qxd5,Qxd5,cxd5,Rab1,a5,Rfd1,Bf5,Bd3,Bxd3,Rxd3,Rfd8,b3,Rab8,Rbd1,d4,Bd2,Rb5,f3,Rbd5,Kf2,f5,Rc1,Ra8,Rc7,a4,b4,Bf8,a3,Bg7,Kg3', 'Be5+,Bf4,Bxc7', 'https://lichess.org/training/uExX2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ueYbM', 'Rapid', 'zoran1955', 1832, 'OnlyRegal', 1908, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,e6,Re1,Ngf6,d3,Bd6,Bg5,h6,Bh4,O-O,Nc3,Qb6,Rb1,Rfc8,Qd2,Qc6,a3,a5,Rec1,b5,Ne2,g5,Bg3,Bxg3,hxg3,Ne8,Nfd4,Qb6,Nf3,e5,Nh2,f5,Qe3,Qxe3,fxe3,Nd6,Nf3,Kg7,Nc3,e4,Nd4,Nf6,Ncxb5,Nxb5,Nxb5,Kg6,Nd4,Re8,b4,exd3,cxd3,axb4,axb4,Rxe3,Rc3,Rxg3,b5,f4,b6,Ra2,Rc2,Rxc2,Nxc2,Rxd3,b7,Nd7,b8=Q,Nxb8,Rxb8,Rd1+,Kh2,g4,Rb4,Kg5,g3,fxg3+,Kxg3,Rd3+,Kf2,Rd2+,Kg3,h5,Nd4', 'h4#', 'https://lichess.org/training/ueYbM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ueYIy', 'Blitz', 'NM Loy_Konstantin', 2404, 'WIM Efremova', 2294, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bc4,Nc6,Ne2,Bf5,Bd2,O-O-O,a3,e6,Nd5,Qxd5,Bxd5,exd5,O-O,Bd6,Bf4,Bxf4,Nxf4,g5,Nd3,Bg4,f3,Be6,c3,h5,Re1,h4,h3,Nh5,Ne5,Nxe5,Rxe5,Rhg8,Qd2,Nf4,Rae1,Rd6,Kh2,f6,R5e3,f5,Re5,Bd7,Re7,b6,Qe3,Nh5,Rh7,Nf6,Rf7,g4,Rxf6,Rxf6,fxg4,fxg4,hxg4,Rxg4,Qe7,Rfg6,Re2,Rg3,Qxh4,R3g5,g3,Bg4,Re8+,Kb7,Kg1,Rh5,Qd8,Bd7,Qa8+,Ka6,Re7,Bc6,Qc8+,Bb7,Qxc7,Rhg5,Qxb7+,Kb5,Qd7+,Kc4,Qc7+,Kd3,Qf4,Kc2,Kf2,Kb3,Re3,Kc4,Qf3,Rh6,Qe2+,Kb3,Kg2,Rgh5,c4+,Ka4,c5,Rh2+,Kf3,Rxe2,Rxe2,Rf6+,Kg2,bxc5,Rf2,Rg6,Rf4,cxd4', 'Rxd4+,Kb3,Rxd5', 'https://lichess.org/training/ueYIy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEYLu', 'Blitz', 'jari123', 1890, 'AAV1975', 1858, 'd4,Nf6,a3,e6,b3,d5,Bb2,c5,Nd2,Nc6,e3,b5,Bxb5,Bd7,Be2,cxd4,exd4,Bd6,Ngf3,h6,O-O,Qc7,Rb1,e5,dxe5,Bxe5,Nxe5,Nxe5,Re1,O-O,Nf3,Neg4,h3,Nxf2,Kxf2,Ne4+,Kg1,Qg3,Qxd5,Bxh3,Bf1,Qf2+,Kh1', 'Ng3+,Kh2,Nxf1+,Rxf1,Qxg2#', 'https://lichess.org/training/uEYLu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uEYtw', 'Rapid', 'ARAMONINO', 1745, 'sarracinu', 1761, 'e4,e5,f4,exf4,Nf3,Nc6,d4,d6,Bxf4,Bg4,Bc4,h6,e5,dxe5,dxe5,Qxd1+,Kxd1,Bxf3+,gxf3,O-O-O+,Ke2,Nd4+,Kd3,Nxf3+,Kc3,f6,Be6+,Kb8,exf6,Nxf6,Na3,Ne4+,Kc4,Rd4+,Kb3,Nc5+,Kc3,Nxe6,Rad1,Rxf4,Rd3,Bxa3,bxa3,a5,Rf1,Rhf8,Re3,Neg5,h4,Nh3,Rd1,b5,Rd5,Rc4+,Kd3,c6,Rd7,Rc8,Ree7,Nf4+,Ke3,Nd5+,Kxf3,Nxe7,Rxe7,Rf8+,Ke3,Rc3+,Kd2,Rxa3,Rxg7,Rxa2,Kc3,b4+,Kb3,Ra3+,Kc4,Rf4+,Kc5,Rc3+,Kb6,Rxc2', 'Rg8+,Rf8,Rxf8#', 'https://lichess.org/training/uEYtw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UeZ2Y', 'Rapid', 'rochanovic2', 1814, 'iliax', 1908, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,Bb7,Re1,Bc5,c3,d6,d4,exd4,cxd4,Bb6,e5,dxe5,Nxe5,O-O,Bg5,h6,Bxf6,Qxf6,Nd7,Qxd4,Qxd4,Nxd4,Nxf8,Rxf8,Nd2,c5,Re7,Bc6,Rae1,c4,Bd1,Bc5,Rc7,Bb4,Rxc6,Bxd2,Re2,Nxe2+,Bxe2,Re8,Kf1,a5,Rb6,Re5,Rd6,c3,bxc3,Bxc3,Rd8+,Kh7,Bd3+,f5,g3,b4,Bc2,Re1+,Kg2,Re2,Bxf5+,g6,Rd7+,Kg8,Bxg6,Rxa2', 'Bf7+,Kf8,Bxa2', 'https://lichess.org/training/UeZ2Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UeZm7', 'Rapid', 'qasim2', 1748, 'Nobodys_Perfect', 1731, 'e4,b6,d4,Bb7,f4,Bxe4,Nc3,Bb7,d5,g6,Nf3,Bg7,Bd2,d6,Bc4,Nf6,Qe2,O-O,h3,Re8,O-O-O,Na6', 'Bxa6,Bxa6,Qxa6', 'https://lichess.org/training/UeZm7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ueZqL', 'Blitz', 'Waldgeist', 2022, 'Nechto37', 2111, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bf1,Nxd5,Bxb5,Bd7,Ne4,f5,Nec3,Nxc3,Nxc3,Bc5,d3,O-O,Bc4+,Kh8,O-O,f4,Ne4,Bb6,Qh5,Be8,Qh3,Bd7,Qh5,Be8,Qg4,Bf7,Bxf7,Rxf7,Ng5,Rf6,Qh5,Qg8,Ne4,Rh6,Qf5,Rf8,Qd7,Rf7,Qd5,Qe8,Ng5,Rd7,Qb3,Nd4,Qc4,Qh5,Nh3,Ne2+,Kh1,Rg6,Rg1,Qg4,Qe4,Qxh3', 'Qa8+,Rd8,Qxd8#', 'https://lichess.org/training/ueZqL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uf1Xc', 'Classical', 'vacca', 1682, 'gabrielkeven', 1647, 'd4,e6,Nf3,c5,c4,cxd4,e4,dxe3,Bxe3,Nf6,Bd3,g6,O-O,Bg7,Nc3,O-O,Kh1,Nc6,Ng5,Ne5,f3,Nxd3,Qxd3,b6,Nce4,Nxe4,fxe4,Bxb2,Bd4,Bxa1,Bxa1,Qxg5,g3,f5,Qd4,Kf7,h4,Qe7,exf5,Bb7+,Kh2,exf5,Kh3,Qe6,g4,Rae8', 'Qg7#', 'https://lichess.org/training/Uf1Xc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uf2UE', 'Rapid', 'Kemel', 1790, 'bird88', 1668, 'e4,e5,Nf3,d6,h3,Nf6,Bc4,c6,O-O,d5,exd5,e4,Re1,cxd5,Bb3,Be7,d3,exf3,Qxf3,O-O,Bg5,b6,Bxf6,Bxf6,Bxd5,Bxb2,Bxa8,Bxa1,Na3,Bc3,Re3,Nd7,Be4,Nf6,Nb5,Nxe4,Qxe4,Ba5,Nxa7,Be6,Nc6,Qd6,Nxa5,bxa5,f4,Bxa2,Qa4,Bd5,Qxa5,Qxf4,Re1,Qg5,c4,Ra8', 'Qxa8+,Bxa8,Re8#', 'https://lichess.org/training/Uf2UE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UF8Sq', 'Rapid', 'cammellos', 1971, 'Po1234', 1778, 'd4,d5,Bf4,Nf6,e3,a6,Nd2,e6,Ngf3,c5,c3,Nc6,Bd3,cxd4,exd4,h6,O-O,Bd6,Ne5,O-O,Ndf3,Ne7,h3,Ne4,Re1,f5,Nd2,Bxe5,dxe5,Ng6,Bh2,b5,f3', 'Qb6+,Kh1,Nf2+', 'https://lichess.org/training/UF8Sq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UF8x7', 'Rapid', 'Hamza-5027', 1852, 'Choriarranz', 1863, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,e6,Nc3,g6,d5,Ne5,Nxe5,dxe5,Bc4,exd5,Bxd5,Nf6,O-O,Bg7,Bg5,O-O,Qf3,Qb6,Na4,Qb5,Bxf6,Bxf6,Qxf6,Qxa4,Qxe5,Bd7,Bxb7,Rae8,Qd5,Be6,Qc6,Qxc6,Bxc6,Rc8,Bd5,Bxd5,exd5,Rcd8,Rfd1,Rd6,Rac1,Rfd8,Rc5,Kg7,f4,Kf6,Kf2,Kf5,Kf3,h6,g4+,Kf6,h4,g5,hxg5+,hxg5,Rd4,gxf4,Kxf4,Kg6,Ke5,Rf6,b4', 'Re8#', 'https://lichess.org/training/UF8x7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uF8YF', 'Rapid', 'Horkheiner', 1760, 'tflk', 1827, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,O-O,d6,c3,O-O,Bg5,h6,Bh4,g5,Bg3,Ne7,d4,exd4,cxd4,Bb6,Nc3,c6,Ba4,Ng6,Bb3,Re8,Re1,Kg7,Qe2,h5,h3,g4,hxg4,hxg4,e5,gxf3', 'exf6+,Qxf6,Qxe8', 'https://lichess.org/training/uF8YF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFA2t', 'Blitz', 'Cesar-Caravantes000', 1807, 'droz966', 1794, 'c4,c5,g3,d6,Bg2,Nc6,Nc3,Bd7,Nf3,e5,a3,Be6,b3,Nf6,O-O,Be7,e3,a6,Ne2,Rb8,d4,cxd4,exd4,exd4,Nexd4,Nxd4,Nxd4,Qd7,Nxe6,Qxe6,Bb2,O-O,Re1,Qd7,Re2,Rfe8,Qc2,h5,Rae1,Nh7,Be4,Nf6,Bf5,Qc7,Bxf6,Bxf6', 'Rxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/uFA2t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFace', 'Rapid', 'sparklesparkle', 1671, 'Aurune', 1662, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Ng8,Nf3,d6,d4,dxe5,Nxe5,Qh4+,g3,fxg3,Qf3,g2+,Kd2,Qxd4+,Bd3,gxh1=Q', 'Qxf7+,Kd8,Qxf8#', 'https://lichess.org/training/uFace');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFAkY', 'Blitz', 'goxu_a', 1753, 'bacrot1984', 1772, 'e4,c5,Nf3,Nc6,Bc4,g6,d3,Bg7,c3,Nf6,Bg5,d6,Nbd2,O-O,Qe2,Na5,Bb5,a6,Ba4,b5,Bc2,Nc6,h3,Bb7,g4,a5,Nh4,b4,c4,Nd4,Qd1,Nxc2+,Qxc2,Nd7,Nf5,gxf5,gxf5,Nf6,Rg1,Kh8,Nf3,h6,Qd2,Ng8,O-O-O,a4,Rg4,f6,Be3,a3,b3,Qe8,Nh4,Kh7,Rdg1,Rf7,Ng6,e6,Rh4,exf5,Rh5,fxe4,Rg4,f5,Rgh4,Kxg6,Bxh6,Kf6,Qf4,Nxh6,Rxh6+,Bxh6', 'Rxh6+,Kg7,Qg5+,Kf8,Rh8#', 'https://lichess.org/training/uFAkY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UfAQv', 'Blitz', 'carlos1234567', 1592, 'danielregefalk', 1584, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,b6,Bc4,Bc5,Qd3,Bb7,O-O,h6,Be3,Qe7,Bxc5,Qxc5,Bb3,O-O-O,Qe3,Qh5,f3,g5,Qd4,Qg6,e5,Nh7,Bd5,h5,Be4,Qg7,Bxb7+,Kxb7,Nd5,g4,Qe4,Kb8,Nb4,Ng5', 'Na6+,Kc8,Qa8#', 'https://lichess.org/training/UfAQv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ufBXY', 'Rapid', 'chefII', 2071, 'dinobueno', 1980, 'e4,e6,d4,d5,e5,c5,c3,c4,b3,b5,a4,Qa5,b4,Qa6,Bb2,Bd7,axb5,Qxb5,Na3,Qb7,Nc2,a5,Ba3,Nc6,bxa5,Bxa3,Rxa3,Ra6,Nf3,Rxa5,Qa1,Rxa3,Qxa3,Qb1+,Kd2,Nge7,Qa8+,Nc8,g3,O-O,Bg2,Qb8,Qxb8,Nxb8,Nb4,Nc6,Rb1,N8a7,Na6,Na5,Nc5,Bb5,Kc2,Rb8,Nd2,Nb7,Ra1,Nxc5,Rxa7,Nd3,Bf3,g6,Be2,Nxf2,Nf3,h6,Ne1,Nh3,Bg4,Ng5,Be2,h5,Bd1,Ne4,Nf3,Kg7,Be2,Bc6,Rc7,Ba4+,Kc1,Nxc3,Kd2,Nxe2,Kxe2,Rb2+,Ke3,Be8,Rc8,Kf8,Ng5,Ke7,h4,Kd7,Ra8,Rb7,Nh7,Ke7,Nf6,Bc6,Ng8+,Kd7,Rf8,c3,Rxf7+,Ke8,Rxb7,Bxb7,Nf6+,Ke7,Kd3,c2,Kxc2,Ba6,Kd2,Bb5,Ke3,Kf7,Kf4,Kg7,Ke3,Ba4,Kd2,Kh6,Ng8+,Kg7,Ne7,Be8,Nc8,Kh6,Nd6,Ba4,Kc3,Kg7,Kb4,Bc2,Kc5,Kf8,Kc6,Ke7,Kc7,Bb1,Nc8+,Ke8,Kd6,Bf5,Ne7,Bh3,Nxg6,Kf7,Nf4,Bg4,Kd7,Kf8,Nxe6+', 'Kf7,Kd6,Bxe6', 'https://lichess.org/training/ufBXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UfCTc', 'Blitz', 'Spaggo31', 2378, 'APR21', 1785, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,d4,d6,dxe5,dxe5,Qxd8+,Bxd8,Ng5,O-O,Nc3,h6,Nf3,Na5,Bd3,Nc6,Nd5,Bg4,Be3,Bh5,c4,Bg6,Nh4,Bxe4,Nxf6+,Bxf6,Bxe4,Bxh4,Rad1,f5,Bd5+,Kh7,Bc5,Be7,Be3,f4,Bc1,Nd4,Rfe1,c6,Be4+,Kh8,Bb1,Bd6,c5,Bxc5,Rxe5,Bb6,Re4,c5,Bxf4', 'Rxf4,Rxf4,Ne2+,Kf1,Nxf4', 'https://lichess.org/training/UfCTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ufEGQ', 'Rapid', 'RP_13', 2034, 'BasemAbunasser', 1936, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Bc5,d4,exd4,cxd4,Bb6,Nc3,d6,d5,Nce7,O-O,Nf6,Re1,Ng4,Re2,O-O,h3,Ne5,Nxe5,dxe5,Be3,Ng6,Bxb6,axb6,Qd2,Nf4,Re3,Qg5,Rg3', 'Nxh3+,gxh3,Qxd2', 'https://lichess.org/training/ufEGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UfEK9', 'Rapid', 'Suriname1', 2078, 'lemososorinho', 2058, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Be2,Nf6,Bf4,Bf5,Nf3,e6,O-O,Bd6,Bxd6,Qxd6,Nh4,Bg6,a4,Nbd7,f4,O-O,Nxg6,hxg6,g4,Nd5,Ne4,Qc7,Qd2,N7f6,Nxf6+,gxf6,c4,Ne7,Rad1,f5,Qe3,Kg7,Qc3,Kg8,g5,Rad8,b4,Rd7,Rd3,Rfd8,a5,b6,Rh3,Rxd4,Qg3,Kf8,Qh4,Ng8,Qh8,Ke7,Rh7,Rxf4', 'Rxf7+,Kxf7,Qh7+', 'https://lichess.org/training/UfEK9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFeRN', 'Rapid', 'ThreeGoldenPawns', 1763, 'omshiva', 1771, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,h6,a3,Nf6,Nc3,a6,Bd3,b5,O-O,d6,f4,Be7,Nd5,Nxd5,exd5,Nd4,Nxd4,exd4,Re1,O-O,Qe2,Bf6,Qe4,g6,Qf3,Bd7,f5,g5,h4,Kh7,Qh5,Be8,g4,Rg8,Bd2,Ra7,Kh1,Bc6,dxc6,Qc7,Be4,a5,Kh2', 'd5+,Kh3,dxe4', 'https://lichess.org/training/uFeRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFf5O', 'Rapid', 'CarmelaZero', 1916, 'bruno1986', 1971, 'Nf3,Nf6,c4,d5,e3,c6,Nc3,g6,cxd5,cxd5,Bd3,Bg7,Bc2,Nbd7,b3,O-O,Bb2,e5,O-O,e4,Nd4,Ne5,Rb1,Bg4,f3,exf3,gxf3,Bh3,Rf2,Ne4', 'fxe4,Qg5+,Kh1', 'https://lichess.org/training/uFf5O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ufFGU', 'Blitz', 'taufik_baim', 2017, 'NM Hardian_Rochild', 2177, 'f4,d5,Nf3,Nf6,e3,Bg4,b3,Nc6,Bb2,e6,Bb5,Qd7,Bxc6,Qxc6,O-O,Bc5,Qe1,Bxf3,Rxf3,Bb6,Qd1,O-O-O,d3,d4,e4,Nxe4,dxe4', 'd3+,Kh1,dxc2', 'https://lichess.org/training/ufFGU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ufG0r', 'Blitz', 'RapidMind_007', 2343, 'Oleg946', 2407, 'e4,c5,Nf3,g6,c4,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,Nxd4,Qxd4,d6,Be3,Bg7,Be2,O-O,Qd3,Be6,Bd4,Qa5,O-O,Rfc8,b3,a6,f4,b5,cxb5,axb5,Nxb5,Qb4,f5,Bd7,a4,Bxb5,axb5,Nxe4,Bxg7,Kxg7,Rxa8,Rxa8,h3,Ra3,fxg6,hxg6,Qf3,Nf6,Bc4,d5,Be2,Rxb3,Qf2,Rb2,Qe3,Qe4,Qxe4,Nxe4,Bd3,Nc5,Rb1,Nxd3', 'Rxb2,Nxb2,b6,Nd3,b7', 'https://lichess.org/training/ufG0r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UfGEt', 'Blitz', 'edvaedva', 1823, 'mkocan', 1725, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Nf3,e6,e5,dxe5,Qxd8+,Kxd8,Bb5,Bd6,Bg5,Ke7,O-O-O,a6,Ne4,Bc7,Bxc6,bxc6,Nc5,h6,Bh4,g5,Bg3,Nd5,Nxe5,Bxe5,Bxe5,f6,Bd4,a5,Rhe1,a4,a3,Rb8,Ne4,e5,Bc5+,Ke6,c4,Nf4,Rd6+,Ke7,Rxc6+,Kf7,Rxf6+,Kg7,Rd1,Nxg2,Rdd6,Nf4,Ng3,Nd3+,Kc2,Nxc5,Nh5+,Kh7,Rf7+,Kg8', 'Rg7+,Kf8,Rd8#', 'https://lichess.org/training/UfGEt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFGxD', 'Rapid', 'adekusara', 2044, 'joethelegend', 2005, 'd4,Nf6,c4,c6,Nc3,Qc7,e4,d6,h3,h6,Nf3,Nbd7,Bd3,e5,dxe5,Nxe5,Nxe5,dxe5,O-O,Be7,Bc2,Be6,b3,O-O,Qe2,Qa5,Bd2,Qc7,Nd1,Rad8,Ne3,Rd7,Nf5,Bxf5,exf5,Rfd8,Be3,e4,Rad1,Bb4,g3,Qe5,Rxd7,Rxd7,Bf4,Qxf5,f3,Qc5+,Be3,Qe7,fxe4,Nxe4,Bxe4,Qxe4,Rf4,Rd1+,Kf2,Qh1,Rxf7,Qg1+,Kf3,Rf1+,Kg4,Re1,Bxg1,Rxe2,Rxb7,c5,Rxa7,g6,h4,h5+,Kg5,Re6,a3', 'Bd2+,Be3,Bxe3#', 'https://lichess.org/training/uFGxD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ufh6z', 'Rapid', 'Bakinbard', 1856, 'JWerner', 1671, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,d3,d6,Be3,Bxe3,fxe3,Bd7,Nc3,a6,Ba4,b5,Bb3,O-O,a4,b4,Na2,Na5,Nxb4,Nxb3,cxb3,Rb8,Qd2,Qe7,Nxa6,Rb7,Nb4,Rfb8,Nd5,Nxd5,exd5,Rxb3,Rab1,Bxa4,Qa5,Be8,Qd2,Qd7,Rfc1,R8b7,d4,e4,Ne1,Qb5,Rc3,Rxb2,Rxb2,Qxb2,Qxb2,Rxb2,Rxc7,Rb5,Re7,Kf8,Rxe4,Rxd5,Nf3,Bc6,Rf4,h6,e4,Ra5,d5,Bd7,Kf2,Ra4,h3,f5,h4,Rxe4,Rxe4,fxe4,Nd4,Kf7,Ke3,Kf6,Kxe4,g5,hxg5+,Kxg5,Kf3,h5,Ne6+', 'Bxe6,dxe6,Kf6', 'https://lichess.org/training/Ufh6z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ufHu9', 'Classical', 'imDaChess', 1624, 'iGuerra89', 1657, 'e4,a6,Bc4,b5,Bb3,Bb7,d3,e6,Nf3,c5,Qe2,Nf6,Nbd2,Be7,a3,O-O,O-O,d5,e5,Ng4,h3,Nh6,Ba2,Nd7,b4,c4,dxc4,bxc4,Nxc4,dxc4,Bxh6,gxh6,Bxc4,a5,c3,axb4,cxb4,Nb6,Rfd1,Qc7,Bd3,Rad8,Rac1,Qb8,Be4,Nd5,Nh2,Qxe5', 'Bxh7+,Kxh7,Qxe5', 'https://lichess.org/training/ufHu9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFJUj', 'Rapid', 'ferreirarn', 1824, 'Indaya', 2278, 'd4,a6,e4,Ra7,Be3,b6,Nf3,Bb7,Bd3,Nf6,Nc3,e6,a3,h6,O-O,d6,a4,Ra8,e5,dxe5,Nxe5,Be7,f3,Ra7,a5,Ra8,Qd2,O-O,axb6,cxb6,Ne4,Ra7,Bxh6,Qxd4+,Kh1,Nxe4,fxe4,Qxe5,Bf4,Qh5,Rf3,Rd8,Rh3,Qc5,e5,Ra8,Bg5,Rxd3,Qxd3,g6,Be3,Qc6,Rg1,Nd7,Bd4,Rd8,Qe3,Nf8,Qh6,f5,exf6,Bxf6,Bxf6', 'Qxg2+,Rxg2,Rd1#', 'https://lichess.org/training/uFJUj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UfJx7', 'Blitz', 'CJR98', 2128, 'AlejoChess-Youtube', 2037, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Bg3,c5,c3,Qc7,Nbd2,Nbd7,Bd3,O-O,Qe2,e5,dxe5,Nxe5,Nxe5,Bxe5,Nf3,Bxg3,hxg3,b6,Ng5,h6,Nf3,Bb7,O-O-O,d4,exd4,Bxf3,Qxf3,cxd4,Rxh6,dxc3,Rxf6,cxb2+,Kb1,Rac8,Qh5', 'Qc1+,Rxc1,bxc1=Q#', 'https://lichess.org/training/UfJx7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ufjye', 'Bullet', 'Basejump', 1878, 'clearwater88', 1900, 'e4,c5,Nc3,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Nc6,Bb5,Be7,Bxf6,Bxf6,dxc5,Bxc3+,bxc3,O-O,Bxc6,bxc6,O-O,Bg4,Qd3,Bxf3,Qxf3,Qa5,Qe3,Rfe8,Qd4,Re4,Qd3,Qxc5,Rfe1,Rc4,Re3,h6,Rae1,g6,Re8+,Rxe8,Rxe8+,Kg7,Re3,Qa3,h4,Qxa2,h5,g5,Rg3,Qa5,Qe3,Qc5,Qe5+,f6,Qc7+,Kg8,Qd8+,Qf8,Qd7,a5,Qf5,a4,Re3,a3', 'Qg6+,Kh8,Re8,Qxe8,Qxe8+', 'https://lichess.org/training/Ufjye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFkzV', 'Bullet', 'rapsim', 1791, 'pence', 1742, 'e4,e5,Nf3,f5,exf5,e4,Qe2,Nf6,d3,d5,dxe4,dxe4,Nc3,Bxf5,Bg5,Bb4,Bxf6,Qxf6,Qb5+,Nc6,Nd2,O-O-O,O-O-O,Bxc3,bxc3,Qxc3,Qb2,Qa5,Bb5,Nb4,a4,e3,Nc4,Rxd1+,Rxd1,Na2+,Qxa2,Qb4,Nxe3,Bg6,Qe6+,Kb8,Be8,Rxe8', 'Qxe8+,Bxe8,Rd8#', 'https://lichess.org/training/uFkzV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ufl6x', 'Rapid', 'rusdichess', 2343, 'narendranp', 2234, 'e4,c5,f4,e5,Nf3,exf4,Bc4,Ne7,d3,d5,exd5,Nxd5,O-O,Be7,Re1,O-O', 'Bxd5,Qxd5,Rxe7', 'https://lichess.org/training/Ufl6x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UfM6i', 'Rapid', 'ataindia', 1825, 'bobbybriggs', 1765, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Be2,Be7,O-O,O-O,f4,Nbd7,Qd2,b5,Nc6,Qe8,e5,dxe5,fxe5,b4,Nxe7+,Qxe7,exf6,Nxf6,Na4,Bb7,Bc5,Ne4,Qd1', 'Nxc5,Nxc5,Qxc5+', 'https://lichess.org/training/UfM6i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UFmlw', 'Rapid', 'karamazov7', 1601, 'ceifador09', 1608, 'e4,e5,f4,Nc6,Nf3,f6,Bc4,Bc5,fxe5,Nxe5,Nxe5,fxe5,d3,Nf6,Qf3,d6,Be3,Bb6,Bxb6,axb6,O-O,Qe7,Nc3,Be6,Bxe6,Qxe6,Ne2,O-O,d4,Rxa2', 'd5,Rxa1,dxe6,Rxf1+,Qxf1', 'https://lichess.org/training/UFmlw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFMn5', 'Rapid', 'MeLky31', 1972, 'Muhammad1970', 2082, 'e4,c6,d4,d5,e5,c5,dxc5,e6,b4,a5,c3,axb4,cxb4,Nc6,Bb5,Qc7,Bxc6+,bxc6,Nf3,Ba6,Nc3,Ne7,Ne2,Ng6,Bb2,Qb7,a3,Be7,O-O,O-O,Re1,Qd7,h3,f6,Qd4,fxe5,Nxe5,Nxe5,Qxe5', 'Bf6,Qg3,Bxb2', 'https://lichess.org/training/uFMn5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UFMoK', 'Blitz', 'bja555', 2479, 'FM Chess3054', 2505, 'd4,Nf6,Nf3,e6,c4,d5,cxd5,exd5,Nc3,c6,Bg5,Be7,Qc2,O-O,e3,Nbd7,Bd3,Re8,O-O,Ne4,Bf4,f5,Rab1,a5,a3,g6,b4,axb4,axb4,Ra3,Rb3,Rxb3,Qxb3,Ndf6,Ra1,Bd6,Bxd6,Qxd6,Ne5,Nd7,Bxe4,Nxe5,dxe5,Qxe5,Bf3,Be6,Qc2,Bf7,Rd1,d4,Ne2,dxe3,Ng3,h5,fxe3,Qxe3+,Qf2,Qb3,Qd4,h4,Qxh4,Qe3+,Kh1', 'Qe1+,Nf1,Qxh4', 'https://lichess.org/training/UFMoK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UFN7h', 'Blitz', 'Wicaksono', 1922, 'IM Fighter89', 2490, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,d4,cxd4,cxd4,e6,Bd3,Nf6,O-O,Be7,Be3,O-O,Nc3,Qd6,Ne4,Nxe4,Bxe4,f5,Bxc6,Qxc6,Rc1,Qd5,Bg5,Bd6,Re1,Bd7,Ne5,Bxe5,Rxe5,Qxa2,Rc7,Rf7,h3,g6,Qc2,Bc6,Rxf7,Kxf7,d5,Qa4,dxe6+,Kg8,b3', 'Qa1+,Qc1,Qxe5', 'https://lichess.org/training/UFN7h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UFNJa', 'Rapid', 'aphonua2017', 1862, 'Attikus', 1848, 'e4,e5,Bc4,Bc5,Nc3,c6,d3,Nf6,a3,d6,h3,h6,Nf3,O-O,O-O,Be6,Bxe6,fxe6,Nh2,Nbd7,Ng4,Qe7,Kh1,Nh7,Na4,Bb6,Nxb6,axb6,Bd2,Ng5,f4,exf4,Bxf4,e5,Bxg5,Qxg5,Qe2,Rf4,Ne3,g6,Rf3,Rxf3,Qxf3,Rf8,Qe2,Qg3,Rf1,Rxf1+,Nxf1,Qf4,Ne3,b5,Qf3,Qxf3,gxf3,h5,c3,Kf7,d4,Kf6,Kg2,Kg5,Kg3,h4+,Kf2,Nf8,Ng4,exd4,cxd4,Ne6,Ke3,c5,dxc5,dxc5,Ne5,Nf4', 'Nf7+,Kf6,Kxf4', 'https://lichess.org/training/UFNJa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFPrE', 'Blitz', 'Matagigantes78', 2081, 'HoangK', 2146, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,h6,Ne4,Bf5,Nxf6+,Qxf6,Bxf5,Qxf5,O-O,Bc5,c3,Bb6,d4,Rd8,Qe2,f6,dxe5,fxe5,b4,Nb7,Be3,O-O,Bxb6,axb6,Qc4+,Kh8,Qxc6', 'Qxf2+,Rxf2,Rd1+,Rf1,Rdxf1#', 'https://lichess.org/training/uFPrE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ufqoq', 'Rapid', 'SergSob', 1737, 'tanjung88', 1742, 'e4,b6,Nf3,Bb7,Nc3,g6,d4,Bg7,Bg5,Nc6,Bc4,Nf6,O-O,O-O,Re1,Na5,Bb3,Nxb3,axb3,a5,Bxf6,exf6,e5,Bxf3,Qxf3,fxe5,dxe5,Qg5,Rad1,Bxe5,Rxd7,Bd6,Ne4,Qe5,Qd3,Qxh2+,Kf1,Qh1+,Ke2,Qxg2,Kd2,Rae8,Nf6+,Kg7,Nxe8+,Rxe8,Rxe8,Qxf2+,Kc3', 'Bb4+,Kc4,Qc5#', 'https://lichess.org/training/ufqoq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ufqZ3', 'Rapid', 'knightC9', 1754, 'Alex_W', 1683, 'd4,c6,Nf3,d5,e3,Bf5,c4,e6,Nc3,Bb4,cxd5,cxd5,Qa4+,Nc6,Bb5,Ne7,Ne5,Bxc3+,bxc3,Qb6,O-O,f6,Nxc6,Nxc6,Bxc6+,bxc6,Re1,O-O,Ba3,Rfe8,Bc5,Qb7,c4,a5,cxd5,exd5,Rac1,Bd3,Rc3,Bb5,Qa3,Bc4,Rec1,Reb8,R3c2,h6,Bd6,Rf8,Bxf8,Rxf8,Qxa5,Qb5,Qxb5,cxb5,a3,Ra8,Ra1,b4,Rcc1,bxa3,f3,a2,e4,Kh7,exd5,Bxd5,Rc5,Be6,d5,Bf7,d6,Rb8,Kf2,Rb1,d7,Rxa1,d8=Q,Rb1,Qd3+', 'Bg6,Qa6,a1=Q,Qxa1,Rxa1', 'https://lichess.org/training/ufqZ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ufRIO', 'Rapid', 'Xhemo', 1949, 'atoz123', 1908, 'd4,d5,c4,c6,c5,Bf5,Nc3,e6,Bf4,Nd7,Nf3,h6,h3,Be7,e3,Ngf6,Be2,Ne4,O-O,Nxc3,bxc3,b6,cxb6,axb6,Qb3,O-O,Ne5,Nxe5,Bxe5,c5,a3,c4,Qb2,Bd6,Bxd6,Qxd6,Bd1,Bd3,Re1,Rfb8,Bc2,Bxc2,Qxc2,Ra5,Ra2,Rba8,Rea1,Rxa3,Rxa3,Rxa3,Rb1,Qc6,Qb2,Ra6,Qb4,Ra4,Qe7,Ra8,Rb4,Ra4,Qd8+,Kh7,Rxb6,Qa8', 'Rb8,Qxb8,Qxb8,Ra1+,Kh2', 'https://lichess.org/training/ufRIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UFRkD', 'Rapid', 'agepsta', 1902, 'Abdulrahman777', 1890, 'e4,e5,Nf3,Nc6,d4,d5,dxe5,dxe4,Nfd2,Nxe5,Bb5+,c6,Ba4,b5,Bb3,Nf6,O-O,Bc5,Qe2,Bg4,Qe1,Bf5,Nc3,O-O,Ndxe4,Nxe4,Nxe4,Bb6,Ng3,Qf6,Be3,Bc7,h3,Bxh3,gxh3,Nf3+,Kg2,Nxe1+,Raxe1,Qxb2,Nf5,c5,Bxc5,Ba5,Rb1,Qe5,Bxf8,Rxf8,Ne3,Rc8,Rfe1,Qe4+,f3,Qg6+,Kf2,Bxe1+,Rxe1,h6,Rg1,Qh5,Nd5,Qh4+,Rg3,Kf8,Ne3,a5,a4,Qd4,Ke2,Re8,f4,Qxf4,Rf3,Qh2+,Rf2,Qxh3', 'Rxf7+,Kg8,Rf3+,Kh8,Rxh3', 'https://lichess.org/training/UFRkD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UFsAj', 'Classical', 'MichaelCarlsen', 1910, 'Hosseinamator', 1888, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,Re1,Be7,Nc3,O-O,Nd5,h6,c3,a6,Bf1,Be6,Nxf6+,Bxf6,d4,exd4,cxd4,Bg4,d5,Ne5,Be2,Bxf3,Bxf3,Nxf3+,Qxf3,Kh8,Qb3,b6,f4,Re8,Re2,Qd7,Bd2,a5,a4,Qg4,Rae1,Bd4+,Kh1,f6,Qc4,Bc5,h3,Qh5,Be3,Bxe3,Rxe3,Qf7,e5,fxe5,fxe5,dxe5,Rxe5,Rxe5,Rxe5,Rd8,Qb5,Qd7,Qxd7,Rxd7,g4,Kh7,Kg2,Kg6,Kf3,Rf7+,Ke3,Kf6,Rf5+,Ke7,Rxf7+,Kxf7,Ke4,Ke7,Ke5,g6,h4,Kf7,b3,Ke7,g5,h5,Ke4,Kd6,Kd4,c6', 'dxc6,Kxc6,Ke5', 'https://lichess.org/training/UFsAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UFT3P', 'Rapid', 'azzubhai006', 1965, 'riq', 1976, 'd4,Nf6,Nf3,d5,c3,e6,h3,Bd6,e3,Nbd7,Nbd2,O-O,a4,c5,dxc5,Bxc5,Nb3,Be7,Qc2,Nc5,Nbd4,a6,Be2,Qc7,O-O,Bd7,b4,Nce4,Bb2,Bxb4', 'cxb4,Qxc2,Nxc2', 'https://lichess.org/training/UFT3P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ufuhp', 'Rapid', 'stavmanr', 1835, 'beginnin', 1921, 'd4,d6,e4,g6,f4,Bg7,Nf3,Nf6,Bc4,O-O,Nbd2,h6,b3,Nh5,g3,Nc6,e5,dxe5,dxe5,Bg4,O-O,Nd4,Bb2,Nxf3+,Nxf3,Qxd1,Raxd1,Rad8,Rd3,Rxd3,Bxd3,Kh7,Ba3,Re8,Kg2,f6,Re1,Bxf3+,Kxf3,fxe5,fxe5,Bh8,g4,Ng7,h4,Ne6,h5,Nf8,hxg6+,Nxg6,Bb2,e6,Rh1,Kg7,Ke4,Ne7,Bc1,Ng8,Be3,Kh7,g5,Bg7,Kf3+,Kh8,gxh6,Rf8+,Kg4,Bxe5,Rh5,Bf6,h7,Ne7,Bg5,Nd5,Bxf6+', 'Nxf6+,Kg5,Nxh5', 'https://lichess.org/training/ufuhp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFvQp', 'Classical', 'thats-a-dumb-name', 1693, 'DedFloYd', 1634, 'Nf3,d5,e3,e6,Ne5,Nf6,d4,Nbd7,Bb5,c6,Bd3,Nxe5,dxe5,Nd7,f4,Nc5,Nc3,Nxd3+,cxd3,Bb4,a3,Ba5,b4,Bc7,d4,Qe7,O-O,Bd7,e4,O-O,Qh5,Kh8,f5,Rg8,Bg5,f6,fxe6,fxg5,exd7,Qxd7,Qxg5,dxe4,Qe3,Bb6,Rad1,Rad8,Ne2,c5,bxc5,Bxc5,dxc5,Qxd1,Rxd1,Rxd1+,Kf2,Rf8+,Kg3', 'Rd3,Qxd3,exd3', 'https://lichess.org/training/uFvQp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UFVRV', 'Blitz', 'Svenni2004', 1634, 'ThunderBirdDark', 1670, 'e4,e6,c4,Bc5,d4,Be7,Nc3,c5,d5,exd5,cxd5,Nf6,Nf3,O-O,Bc4,a6,d6,b5,dxe7,Qxe7,Nd5,Qxe4+,Qe2,bxc4,Qxe4,Nxe4,O-O,Bb7,Nc7,Ra7,Be3,Rc8,b4,Rxc7,bxc5,Nxc5,Rab1,d6,Rfd1,Rd7,Bxc5,Bxf3,Rxd6,Rxd6', 'Rxb8+,Rd8,Rxd8#', 'https://lichess.org/training/UFVRV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UfWvU', 'Blitz', 'PenguinWife', 1702, 'unknown3000', 1612, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Nxe5,d6,Nf3,Bxc3,bxc3,Nxe4,Qe2,d5,d3,Bf5,dxe4,Bxe4,Be3,O-O,O-O-O,Nc6,Nd4,Na5,Nb3,Nc4,f3,Qe7,fxe4', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/UfWvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UFXVn', 'Blitz', 'wkahhoong', 1576, 'shakyra', 1619, 'd4,c5,d5,e5,e4,d6,Nf3,f5,Bg5,Be7,Bxe7,Nxe7,Nc3,O-O,Be2,Na6,a3,Nc7,O-O,Rb8,b4,cxb4,axb4,a6,Na4,b5,Nb2,fxe4,Nd2,Nexd5,Nxe4,Nxb4,Qxd6,Qxd6,Nxd6,Ncd5,Nxc8,Rbxc8,Bf3,Rxc2,Nd3,Nxd3,Bxd5+,Kh8,Be4,Rd2,Rxa6,Nxf2,Bf3,Nd3,Rd6,e4,Be2,Rxf1+,Kxf1,h6,Bxd3,Rxd3,Rb6,Rb3,Ke2,Kh7,Re6,b4,Rxe4,Rb2+,Kf3,b3,Rb4,h5,h4,Kg6,Rb5,Kh7,Rxh5+,Kg6,Rb5,Kh7,g4,Kg6,Rb6+,Kh7,h5,Kh8,Kf4,Kh7,Kg5,Kh8', 'Kg6,Rd2,Rb8+,Rd8,Rxd8#', 'https://lichess.org/training/UFXVn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UFy7r', 'Rapid', 'OrangeStreet', 2068, 'TuTu94', 2074, 'e4,c5,Nf3,g6,Bc4,Bg7,O-O,Nc6,c3,Nf6,e5,Ng8,d4,cxd4,cxd4,d5,Bb3,Bg4,Be3,e6,Nbd2,Nge7,h3,Bxf3,Nxf3,O-O,Re1,Nf5,Bg5,Qb6,Be3,Nxe3,fxe3,Bh6,Nh2,Na5,Ng4,Bg5,Qf3,Nxb3,axb3,Qxb3,Re2,Qd3,Rf1,Rac8,Nf6+,Bxf6,exf6,Qf5,Qg3,Qh5,Qf4,Kh8,Ref2,Rc6,Kh2,Qf5', 'Qh6,Rg8,Rxf5', 'https://lichess.org/training/UFy7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UfyBh', 'Blitz', 'LM Flaneur', 2423, 'jeromeovich', 2467, 'e4,e5,Nf3,Nc6,Bb5,g6,Nc3,Bg7,d4,exd4,Nd5,h6,Bf4,d6,Qd2,a6,Ba4,Ne7,Nxd4,b5,Nxc6,Nxc6,Bb3,g5,Be3,Bxb2,O-O,Be6,f4,gxf4,Bxf4,Be5,Bxe5,Nxe5,Nf6+,Ke7,Qf2,Qb8,Qh4,Ng6,Qg3,Qb6+,Kh1,Qd4,Bxe6,Kxe6,Qh3+,Ke7,Qd7+,Kf8,Rad1,Qc4,Nd5,Ne5,Qe7+,Kg7,Rf4,Rae8,Qf6+,Kh7,Rdf1,Re6,Qf5+,Kg7,Nf6,Kf8,Ng4,Ke8,Nxe5,Rxe5,Qxf7+,Qxf7,Rxf7,Rxe4,Rxc7,Rf8', 'Rc8+,Kd7,Rcxf8', 'https://lichess.org/training/UfyBh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ufYXQ', 'Blitz', 'Raxat_Kungrad', 1574, 'circumnavigation', 1556, 'e4,Nc6,Ne2,e5,f4,Bc5,Nbc3,exf4,Nxf4,Qh4+,g3,Qf6,Ncd5,Qe5,Bd3,Nd4,Qh5,Qxh5,Nxh5,d6,Nxc7+,Kd7,Nxa8,Kc6,Nxg7,Nf3+,Ke2,Nd4+,Kd1,Bg4+,Ke1,Nf3+,Kf1,Nf6,Be2,Ne5,Bxg4,Nfxg4,d4,Bxd4,c3,Bc5,Nc7,Kxc7,Nf5,Re8,Bd2,Nf3,Rd1,Rxe4,Kg2,Ng5,h4', 'Re2+,Kf1,Rf2+,Ke1,Nf3#', 'https://lichess.org/training/ufYXQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ufzdC', 'Rapid', 'Janik28', 1893, 'StonedCarlsen', 1720, 'd4,d5,c4,dxc4,e4,Nf6,Nc3,e5,dxe5,Qxd1+,Kxd1,Ng4,Be3,Nxe5,f4,Ng4,Kd2,Nxe3,Kxe3,Bc5+,Kd2,O-O,Bxc4,Rd8+,Kc2,Nc6,Nf3,Bg4,Raf1,Bxf3,gxf3,Rd7,h4,Rad8,e5,Rd2+,Kb1,Bb4,Ne4,R2d4,Bb3,Na5,Bc2,Nc4,Rfg1,Nd2+,Nxd2,Rxd2,f5,Bc5,Rg3,Bd4,f4,Kf8,h5,Rf2,f6,gxf6,exf6,Bxf6,Bxh7,Rxb2+,Kc1,Rxa2,Rg8+,Ke7,Re1+,Kd7,Bf5+,Kc6,Be4+,Kb6,Rxd8,Bxd8,h6,Ra1+,Kd2,Rxe1,Kxe1,Bf6,h7,Kc5,Bxb7,a5,Kd1,Kb4,Kc2,a4,Bd5,c5,Bxf7,c4,f5', 'a3,Kb1,Kb3,Bxc4+,Kxc4,h8=Q,Bxh8', 'https://lichess.org/training/ufzdC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uFZUg', 'Rapid', 'ChiffaTheSilverFox', 1722, 'hlak_mf', 1745, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,e3,Be7,Bd3,c6,Nf3,O-O,O-O,Qc7,Rc1,Qd8,a3,Nb6,c5,Nbd7,b4,b6,Na4,b5,Nc3,a6,Nd2,h6,Bh4,Nh7,Bg3,Ng5,Nb3,Nf6,Na5,Bd7,Nb7,Qc8,Nd6,Bxd6,Bxd6,Re8,f3,Ngh7,Nb1,Qb7,Nd2,Rec8,Nb3,Ra7,Na5,Qa8,Qc2,Ne8,Bxh7+,Kh8,Bd3,Nxd6,cxd6,Qb8,Qb1,Qxd6,Rc2,e5,Re1,exd4,exd4,Qf4,Qc1,Qxd4+,Kh1,Qxd3,Re7,Kg8,Nxc6,Rxc6', 'Rxc6,Bxc6,Rxa7', 'https://lichess.org/training/uFZUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UG0DE', 'Blitz', 'TortillaiHel', 1575, 'Y132', 1555, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Qf6,Qd3,Bd7,Qb3,O-O-O,Bd5,b6,Nc3,Ne7,Bxf7,Nc6,Bd5,Nd4,Qc4,Nxc2+,Kd1,Nxa1,Nb5,Bxb5,Qxb5,Qd4+,Bd2,Nc2,Bc6,Nb4,a3,Nxc6,Qxc6,a5,Ke2,Kb8,Rc1,Rc8,Bxa5,bxa5,Qb5+,Qb6,Qa4,Be7,Rc3,Qxb2+,Rc2,Qb1,Qd4,Qb5+,Kd1,Qb1+,Kd2,Qf1,Rb2+,Ka8', 'Qd5+,c6,Qxa5+,Qa6,Qxa6#', 'https://lichess.org/training/UG0DE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ug0mx', 'Rapid', 'Dr_King_Schultz', 1944, 'ChessAttack2', 1928, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Bxf6,Qxf6,Nd5,Qg6,Nbc7+,Kd8,Nxa8,Qxe4+,Be2,Qxg2,Bf3,Qg6,Qd3,Bf5,Qc3,Be4,O-O-O,Bxf3,Qxf3,Nd4,Rxd4,exd4,Qb3,b5,Qa3,Qg5+,f4,Qxd5,Qa5+,Ke7,Re1+,Kf6,Qd8+,Kg6,f5+,Qxf5,Rg1+,Kh6', 'Qh4+,Qh5,Qf4+,g5,Qf6+,Qg6,Qxh8', 'https://lichess.org/training/ug0mx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ug1GG', 'Rapid', 'satrancchess', 1795, 'limunko', 1848, 'e4,g6,d4,Bg7,f4,b6,Nf3,Bb7,Bd3,d6,Nc3,Nf6,Be3,e6,O-O,Nc6,Qe1,Qd7,a4,a5,e5,dxe5,fxe5,Ng4,Rd1,O-O,h3,Nxe3,Qxe3,Nb4,b3,Bxf3,Qxf3,Qxd4+,Kh1,Qxe5,Bb5,Qxc3,Qb7,Qxc2,Rc1,Qxb3,Rxc7,Nd5,Rcxf7,Qc3,Bc6,Rad8,Bxd5,exd5,Qe7,Rde8,Qb7,Qd4,R1f4,Re1+,Kh2,Qe5', 'Rxf8+,Bxf8,Qf7+,Kh8,Qxf8#', 'https://lichess.org/training/ug1GG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ug25d', 'Rapid', 'JordanRieger', 1858, 'Olokzn', 1877, 'e4,d6,d4,Nf6,Bd3,g6,f4,Bg7,Nf3,Nbd7,c4,b6,Nc3,Bb7,Be3,c5,d5,Ng4,Bd2,O-O,h3,Ngf6,O-O,Bc8,a4,Nh5,Qe1,e6,Nb5,Qe7,Rb1,exd5,exd5,Qf6,Ng5,h6,Bc3,Qd8,Bxg7,Nxg7,Ne4,Nf6,Nbxd6,Nfh5,g4,Bxg4,hxg4,Nf6,g5,Nxe4,Nxe4,hxg5,Nxg5,Qd7,Qh4,Nh5,Rbe1,Rae8,Rxe8,Rxe8,Re1,Rxe1+,Qxe1,Qg4+,Kh1,Qxf4,Nh3', 'Qf3+,Kh2,Qxd3', 'https://lichess.org/training/Ug25d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ug2fH', 'Rapid', 'Dimus', 1783, 'moonshine2002', 1950, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c4,Nc6,Be3,d6,Be2,Nf6,Nc3,O-O,O-O,a5,f3,Qb6,b3,Nxe4,Nd5,Qa7,fxe4,Bxd4,Bxd4,Nxd4,Nxe7+,Kg7,Kh1,Nxe2,Qxe2,Qd4,Nxc8,Raxc8,Rad1,Qe5,Rd5,Qe6,Rfd1,Rfe8,Rxd6,Qxe4,Qxe4,Rxe4,h3,Re2,R1d2,Rce8,a3,Rxd2,Rxd2,Re3,Rb2,Kf6,Kg1,Ke5,Kf2,Rc3,Ke2,Kf4,Kd2,Rg3,Ke1,Ke4,Kf2,Rc3,Ke2,Rd3,a4,Kd4,b4,Kc3,bxa5,Rd7,Rb5,Kxc4,Rb6,Kc5,Ke3,h5,Rb5+,Kc6,Rb6+,Kc7,g4,hxg4,hxg4,Rd1,Rf6,Rd7,Rb6,Re7+,Kf4,Re6', 'Rxe6,fxe6,Ke5', 'https://lichess.org/training/Ug2fH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UG4Z2', 'Blitz', 'Shaggy-hama', 1758, 'alexei7', 1741, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,Bg4,Bc4,e6,O-O,Nbd7,Bg5,Be7,h3,Bh5,Qd3,a6,a4,Nb6,Ba2,Bg6,Qe2,Nfd5,Bxd5,Nxd5,Ne4,Bxe4,Qxe4,Bxg5,Nxg5,Qxg5,Rae1,Qg6,Qxd5,O-O,Qxb7,Qxc2,Rc1,Qxa4,Rxc7,Qxd4,Rd7,Qc5,Rfd1,Qb5,Qf3,Qxb2,Rb7,Qc2,Rdd7,Qf5,Qc6,Rfc8,Rbc7,Qb1+,Kh2,Qb8,Rxf7,Ra7,Qxe6,Raxc7', 'Rxc7+,Kh8,Qxc8+,Qxc8,Rxc8#', 'https://lichess.org/training/UG4Z2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ug58T', 'Classical', 'v_know_vendeta', 1688, 'ggms7', 1667, 'e4,e6,d4,d6,Bd3,a6,Nf3,h6,Bf4,g6,e5,d5,O-O,Bg7,h3,b6,Nh2,Ne7,Qg4,Bb7,Nd2,Nd7,Ndf3,Nf5,c3,h5,Qg5,Qc8,g4', 'Bh6,gxf5,Bxg5', 'https://lichess.org/training/ug58T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ug6SS', 'Bullet', 'gummibaer', 1569, 'festinatio', 1726, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,Ngf6,Bd2,e6,O-O-O,Bd6,Ne4,Be7,Kb1,Qb6,Bf4,a5,Nd6+,Bxd6,Bxd6,a4,a3,O-O-O,Ne5,Nxe5,dxe5,Nd5,Qf3,Rd7,c4,Ne7,Qxf7,Nf5,Qg6,Nd4,Qxg7,Rhd8,Qxh6,Ne2,Rd2,Nc3+,Ka1,Ne4,Re2,Nxd6,exd6,Rxd6,Rxe6,Rd2,Qe3', 'Qxb2#', 'https://lichess.org/training/ug6SS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ugDyS', 'Blitz', 'azamiftikhar007', 1969, 'Den_ruS', 1978, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,Bg4,Bd3,Nc6,d5,Nd4,O-O,Nxf3+,gxf3,Bd7,f5,Nh5,Ne2,e6,dxe6,fxe6,fxg6,hxg6,Ng3,Bd4+,Kg2,e5,Nxh5,gxh5,Qe2,Qh4,Be3,Kh8,Bxd4,exd4,Rg1,Qh3+,Kh1,Rxf3,e5,Bg4,Rxg4,hxg4,exd6,Rxd3,Qe5+,Kh7,Qe7+,Kg6,Qe6+,Kg5,Qe7+,Kf4,Qf6+,Ke3', 'Re1+,Kd2,Qf2#', 'https://lichess.org/training/ugDyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UGEQs', 'Rapid', 'amateur1261', 2152, 'pawn-x', 2035, 'e4,c5,Nf3,Nc6,c3,e6,d4,d5,exd5,Qxd5,Be3,cxd4,cxd4,Nf6,Nc3,Bb4,Bd3,O-O,O-O,Qh5,Ne5,Qxd1,Raxd1,Bd6,Nxc6,bxc6,Rfe1,Nd5,Ne4,Nxe3,fxe3,Bb4,Nc3,c5,a3,cxd4,axb4,dxc3,bxc3,Bb7,c4,g6,c5,a6,Kf2,Rfb8,Ra1,Bc6,Reb1,Bb5,Be4,Ra7,g4,f5,gxf5,gxf5,Bf3,Kf7,Rc1,Rc7,Rc2,Kf6,h4,Bc6,Rc4,Bxf3,Kxf3,Rc6,e4,h5,exf5,exf5,Rd4,Re6,Ra2,Rb7,Ra3,Rbe7,Rc4,Rb7', 'c6,Rc7,Rxa6', 'https://lichess.org/training/UGEQs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UgFOj', 'Blitz', 'Cosper', 1984, 'aronpas', 1980, 'e4,c5,Bc4,e6,Nc3,Nc6,a3,Qc7,d3,a6,Nge2,Nf6,O-O,Be7,f4,O-O,f5,b5,Ba2,Bb7,fxe6,dxe6,Bf4,Qb6,Kh1,Nd4,h3,Qc6,Be3,Rad8,Rc1,a5,Bg5,b4,axb4,axb4,Nxd4,cxd4,Ne2,e5,Bb3,h6,Bh4,Qd7,Qe1,Nxe4,dxe4,Bxe4,Bxe7', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/UgFOj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uGhGU', 'Rapid', 'pavelcap', 1623, 'nikmoroz', 1623, 'd4,Nc6,Nf3,d6,d5,Ne5,Nc3,Nf6,Bf4,Nc4,b3,Nb6,e3,a6,Bd3,Bd7,e4,Bg4,h3,Bh5,g4,Bg6,Nh4,e5,dxe6,fxe6,Nxg6,hxg6,Bg5,Be7,e5,Nfd5,Bxg6+,Kd7,Nxd5,Nxd5,Bxe7,Qxe7,exd6,Qxd6,Qd2', 'Qe5+,Kf1,Qxa1+', 'https://lichess.org/training/uGhGU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UgHLX', 'Blitz', 'MN_DidiKuranji', 1603, 'EmadWageh', 1582, 'd4,g6,Bf4,Bg7,e3,e6,Nf3,Ne7,Bd3,O-O,Nbd2,b6,h4,Bb7,h5,d6,hxg6,fxg6,Qe2,e5,Bg5,Bxf3,gxf3,c5,O-O-O,cxd4,exd4,Nbc6,Be4,Rc8,dxe5,dxe5,Nc4,Qc7,Rh2,Nd4,Qe3,b5,Bxe7,Qxe7,Na3,b4,Bd5+,Kh8,Nc4,Qc5', 'Rxh7+,Kxh7,Rh1+,Bh6,Qxh6#', 'https://lichess.org/training/UgHLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ugiU6', 'Rapid', 'XAV1', 1802, 'TheBossfan02', 1811, 'd4,Nf6,Nc3,g6,e4,Bg7,e5,Ng8,f4,d6,Nf3,dxe5,fxe5,c5,d5,Bg4,Bf4,Nd7,Bb5,a6,Bxd7+,Qxd7,O-O,e6,h3,Bxf3,Rxf3,exd5,Nxd5,Ne7,c4,O-O', 'Nf6+,Bxf6,Qxd7', 'https://lichess.org/training/ugiU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UGKMD', 'Rapid', 'msosa', 1807, 'Finitegroup', 1801, 'd4,d5,c4,c6,Nc3,Nf6,e3,Bf5,Nf3,e6,Be2,Bd6,O-O,O-O,h3,Nbd7,Nh4,Bg6,Nxg6,fxg6,Bd3,Rf7,Ne2,e5,dxe5,Nxe5,cxd5,Nxd3,Qxd3,Nxd5,Qb3,Qd7,e4,Nb6,Rd1,Qe7,Be3,Bc5,Nd4,Qxe4,Rd3,Rd8,Rad1,Qd5,Qc3,Bxd4', 'Rxd4,Re8,Rxd5', 'https://lichess.org/training/UGKMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UGl72', 'Blitz', 'mainstreamkiller', 1831, 'eliabdoors', 1786, 'd4,d5,c4,Nc6,Nf3,Bg4,Bg5,h5,e3,f6,h3,Bxf3,Qxf3,fxg5,Bd3,Nf6,Bg6+,Kd7,cxd5,Nb4', 'Qf5+,e6,Qxe6#', 'https://lichess.org/training/UGl72');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ugM4t', 'Rapid', 'shtefan_vv', 2016, 'Dundik', 1806, 'd4,e6,c4,b6,Nc3,a6,e4,d6,Bd3,c5,d5,e5,Nge2,h6,O-O,g5,Ng3,g4,f3,h5,fxg4,hxg4,Nf5,Bxf5,Rxf5,Qh4,Bg5,Qxh2+,Kf2,Nd7,Qxg4,f6,Bd2,Bh6,Qg6+,Ke7,Bxh6,Qh4+,Ke2,Nxh6,Rh5,Nf8', 'Qg7+,Nf7,Rxh4', 'https://lichess.org/training/ugM4t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ugmnh', 'Rapid', 'zaragozael', 1791, 'auschwitzbirkenau', 1944, 'e4,c5,Nc3,g6,Nf3,Bg7,g3,e6,Bg2,Ne7,O-O,O-O,Re1,b6,d3,d6,Bf4,a6,Rb1,Bb7,Ne2,f5,Ng5,e5,Ne6,Qc8,Nxf8,exf4,Nxf4,Qxf8,Ne6,Qc8,Nxg7,Kxg7,exf5,Nxf5,Bh3,Qc6,Re4,d5,Re2,d4,Re4,Nd7,Bg2,Qc7,Re6,Bxg2,Kxg2,Nf8,Re4,Qc6,Kg1,Ne6,Qf3,Ng5,Re7+,Nxe7,Qxc6,Nxc6,Kg2,Re8,h4,Nf7,Kf1,Nb4,a3,Nxc2,Kg2,Re2,b4,Ne5,bxc5,Ne3+,Kh3,Rxf2,cxb6,N3g4,Rh1,h5,b7,Nf3,b8=Q', 'Ng1+,Rxg1,Rh2#', 'https://lichess.org/training/Ugmnh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ugn0T', 'Rapid', 'JirkaF', 1796, 'lp10101976', 1819, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ne5,d6,Nxg4,Bxg4,Qxg4,Bh6,Be2,Nf6,Qf5,Nc6,c3,Qe7,d4,Nxe4,Bxf4,Bxf4,Qxf4,Rg8,Rh3,Rxg2,Re3,d5,Nd2,Rg1+,Bf1,O-O-O,O-O-O,f5,Nxe4,fxe4', 'Bh3+,Kb8,Rxg1', 'https://lichess.org/training/Ugn0T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uGnpH', 'Blitz', 'Akuma_Z', 1962, 'KonstA_78', 1971, 'e4,Nf6,Nc3,d6,d4,g6,Nf3,Bg7,Bc4,Bg4,Bg5,O-O,Qd2,a6,h4,b5,Bd3,c5,dxc5,dxc5,Bh6,c4,Bxg7,Kxg7,h5,cxd3,hxg6,fxg6,Qh6+,Kg8,O-O-O,Bxf3,gxf3,Qa5,e5,Nh5,Rxh5,gxh5,Rg1+,Kf7,Rg7+,Ke8,Qxh5+,Kd8,e6,Nc6,Qd5+,Kc7,Qd7+,Kb6', 'Nd5+,Kc5,b4+,Qxb4,Nxb4', 'https://lichess.org/training/uGnpH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UGOCz', 'Blitz', 'geldar', 1908, 'BeppeZelbio', 1829, 'd4,d5,e4,e6,e5,c5,c3,Nc6,f4,Qb6,Nf3,Bd7,Qb3,Qxb3,axb3,cxd4,cxd4,Nge7,Be3,Nf5,Bf2,Nb4,Kd2,Be7,g4,Nh6,Nc3,Nxg4,Bg3,O-O-O,Bb5,Bxb5,Nxb5,Kb8,Rxa7,Rc8,Rha1,b6,Rxe7,f6,Rxg7,Rc2+,Kd1', 'Ne3+,Ke1,Nd3#', 'https://lichess.org/training/UGOCz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UgR4w', 'Classical', 'jumi992', 1949, 'Tensor-programming', 1905, 'd4,d5,Bf4,c5,e3,Nf6,Nf3,Nc6,Nbd2,Qb6,dxc5,Qxb2,Rb1,Qc3,Bb5,e5,Nxe5,a6,Bxc6+,bxc6,Nxc6,Qxc5,Nd4,Be7,O-O,O-O,N2b3,Qa7,Nc6,Qd7,Nxe7+,Qxe7,Qe2,Bd7,Nd4,Bb5,Nxb5,axb5,Rxb5,Rxa2,Bg5,Rc8,Rfb1,Raxc2,Bxf6', 'Rc1+,Qd1,Rxd1+', 'https://lichess.org/training/UgR4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UGRq9', 'Rapid', 'DIABLO-ES-UN-PUERCO', 1874, 'Zazepin', 1750, 'd4,Nf6,Bf4,c5,d5,d6,Nc3,Bf5,f3,Qb6,e4,Qxb2,Nb5,Qb4+,c3,Qb2,exf5,g6,Rb1,Qxa2,Nc7+,Kd8,Nxa8,b6,Bb5,Qxg2,Qe2,Qxh1,Qf2,Nxd5,Bg3,Nxc3,Bf1,Nc6', 'Bg2,Qxg1+,Qxg1', 'https://lichess.org/training/UGRq9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uGRWV', 'Rapid', 'ginuse', 1629, 'haluong1992', 1985, 'd4,d5,c4,dxc4,Bf4,Bf5,e3,e6,Bxc4,Bb4+,Nc3,Ne7,a3,Bd6,Bxd6,cxd6,Nf3,a6,Ba2,Qc7,O-O,Nd7,e4,Bg4,h3,Bh5,Qd3,e5,d5,Nc5,Qe3,O-O,Qg5,Bg6,Rfe1,Nd3,Re2,Nf4,Re3,b5,Nh4,Rac8,g3,Nh5,Nxg6,fxg6,g4,Nf6,Qh4,Qc5,g5,Qd4,gxf6,Rxf6,Rae1,Rcf8,R1e2,Rf3,Kh1,R3f6,Bb1,b4,Rd3,Qc5,axb4,Qxb4,Red2,Qb6,f3,Rxf3,Rxf3,Rxf3,Bc2,Kf7,Bd1', 'Rf1+,Kg2,Qg1#', 'https://lichess.org/training/uGRWV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UgTV1', 'Rapid', 'Patita_Suave', 1965, 'PawnAddikt', 1847, 'e4,d6,Bc4,e6,d3,Nf6,Nf3,Be7,O-O,O-O,Bg5,h6,Bd2,c6,Qc1,Re8,Bxh6,gxh6,Qxh6,Bf8,Qg5+,Bg7,h4,Nh7,Qh5,Nf6,Qg5,Nh7,Qg3,Nd7,Ng5,Ndf6,Nxh7,Nxh7,Nd2,Qf6,Nf3,Qxb2,Qxd6,b5,Bb3,Bb7,Qg3,Kh8,e5,Rg8,Ng5,Nxg5,hxg5,Rge8,f4,a5,a3,a4,Ba2,Qxc2,Rf3,c5,Qh4+,Kg8,Rg3,Rad8,g6,fxg6', 'Bxe6+,Rxe6,Qxd8+', 'https://lichess.org/training/UgTV1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uGUe3', 'Rapid', 'SergTheBest54312', 1681, 'DANIEL60', 1611, 'e4,e5,Bc4,d6,Nf3,h6,d3,Nf6,h3,Be7,Nc3,c6,Be3,Nbd7,a3,Nb6,Ba2,Qc7,d4,O-O,dxe5,dxe5,g4,Rd8,Qe2,c5,g5,hxg5,Bxg5,Nh5,Bxe7,Qxe7,h4,Bg4,Rg1,Nf4,Qe3,Bxf3,Qxf3,Qxh4,Ne2,Nxe2', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/uGUe3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uguUZ', 'Rapid', 'banzragch', 1826, 'bhodonk', 1758, 'd4,d5,Bf4,Nc6,Nc3,Nf6,Nb5,e5,dxe5,Nh5,e3,a6,Qxh5,axb5,Bxb5,Bd7,Rd1,Be6,a4,Be7,Nf3,O-O,O-O,f6,exf6,Bxf6,Ng5,Bxg5,Bxg5,Qe8,Qe2,Qg6,f4,Nd8,b3,c6,Bd3,Bf5,Bxf5,Rxf5,c4,Ne6,cxd5,cxd5,Be7,Re8,Ba3,Nxf4,Qc2', 'Nh3+,Kh1,Rxf1+,Rxf1,Qxc2', 'https://lichess.org/training/uguUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uGv2e', 'Rapid', 'piechess97', 1695, 'fidel_1900', 1706, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,h3,Nf6,d3,a6,Ba4,Be6,Bg5,h6,Bh4,b5,Bb3,Bxb3,axb3,Nd4,Nxd4,Bxd4,c3,Bb6,Nd2,Qe7,b4,Qe6,b3,O-O,c4,c5,bxc5,Bxc5,Nf3,bxc4,bxc4,a5,Re1,Ne8,Ra4,Nf6,d4,exd4,Nxd4,Qd7,Bxf6,gxf6,Ra1,Rfe8', 'Nf5,Qxf5,exf5,Rxe1+,Qxe1', 'https://lichess.org/training/uGv2e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UGvPS', 'Rapid', 'Rostislaw', 2177, 'Valeria-Rodgerson', 2026, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nc6,Nf3,h6,Nxc3,d6,e5,dxe5,Bxf7+,Kxf7,Nxe5+,Kf6,Qf3+,Kxe5,O-O,Bf5,Rd1,Qc8,Nd5,Ke6,g4,Bc2,Re1+,Kd7,Qf7+,Be7,Bf4,Qf8,Qe6+,Kd8,Bxc7+,Ke8,Bg3,Qf7,Nc7+,Kf8,Qe3,Re8', 'Ne6+,Qxe6,Qxe6', 'https://lichess.org/training/UGvPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UGw9j', 'Rapid', 'goran5rovic', 1979, 'Cosmico_Ar', 1999, 'e4,e6,g3,d5,Bg2,dxe4,Bxe4,Nf6,Bg2,c5,Nc3,Nc6,d3,Qc7,Nge2,g6,O-O,a6,Bg5,Bg7,Qd2,O-O,Bh6,Nd4,Bxg7,Kxg7,Ne4,Ra7,Nxf6,Kxf6,h4,Kg7,Qc3,e5,Rae1,b5,Qd2,Bb7,f3,e4,dxe4,Nxe2+,Rxe2,Qxg3,Qc3+,Kg8,Qxc5,Raa8,h5,Rac8,Qd4,Rfd8,Qf6,Qd6,e5,Qxf6,exf6,gxh5,Rfe1,h6,Re7,Bd5,Bh3,Rxc2,Ra7,Bxf3,Rxa6,Bg4,Bg2,Rdd2,Ra8+,Kh7', 'Be4+,Bf5,Bxf5#', 'https://lichess.org/training/UGw9j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UGWSr', 'Blitz', 'Gabodral', 1633, 'Marabu69', 2200, 'e4,d5,exd5,c6,c4,Nf6,dxc6,Nxc6,d3,e5,Bg5,Bc5,Nf3,O-O,Nc3,Bg4,Be2,h6,O-O,hxg5,Nxg5,Bxe2,Qxe2,Bd6,Qf3,Nd4,Qh3,Qd7,Qh4,Nf5,Qh3,Qc8,Nd5,Ne7', 'Nxf6+,gxf6,Qh7#', 'https://lichess.org/training/UGWSr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ugXKK', 'Classical', 'UchihaSasuke209', 1649, 'Ferzy44', 1699, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,e3,Bf5,Nf3,e6,Be2,Nc6,O-O,Bd6,h3,O-O,a3,Qc7,b4,a6,Bb2,Rfe8,Na2,e5,dxe5,Nxe5,Nxe5,Bxe5,Rc1,Bh2+,Kh1,Qd6,f4,Bg3,Rf3,Ne4,Nc3,Nf2+,Rxf2,Bxf2,Nxd5,Rad8,Qd4,Bxe3', 'Qxg7#', 'https://lichess.org/training/ugXKK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UgYZy', 'Rapid', 'JJReyes83', 1646, 'thegaranya', 1602, 'e4,e5,Nf3,Nc6,Nc3,d6,Bb5,Bd7,Bxc6,Bxc6,d4,exd4,Nxd4,Bd7,O-O,Nf6,Bg5,Be7,Nf5,O-O,Nd5', 'Nxd5,Nxe7+,Nxe7', 'https://lichess.org/training/UgYZy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uh05f', 'Rapid', 'Akhilendra', 1754, 'abhirama', 1725, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Bd7,O-O,Nge7,Bg5,Qxb2,Nbd2,Qxc3,Rc1,Qa5,Rxc5,Qb4,Rb5,Qc3,Qb1,Nxd4,Rxb7,Nxe2+,Kh1,Qc8,Bxe7,Bxe7,Re1,Nf4,Rc1,Qd8', 'Rcc7,Rc8,Rxd7,Qxd7,Rxd7', 'https://lichess.org/training/uh05f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uH0L9', 'Blitz', 'chessonmars', 1766, 'The_Suomi', 1692, 'd4,d5,Nf3,Nf6,e3,e6,c4,dxc4,Bxc4,Nc6,Nc3,Bb4,Bd2,Bxc3,bxc3,a6,O-O,b5,Bb3,Ne4,Bc2,Nxd2,Qxd2,O-O,Rae1,Bb7,e4,e5,d5,Ne7,Kh1,Ng6,g3,f6,Kg1,c6,d6,Re8,Nh4,Nxh4,gxh4,f5,exf5,Qxh4,Bd1,Rad8,d7,Re7,Rxe5,Rexd7,Qe3,Rxd1', 'Re8+,Kf7,Qe6#', 'https://lichess.org/training/uH0L9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UH4lr', 'Rapid', 'drzaiusbilong_123', 1795, 'alatkon', 1700, 'e4,e5,Nf3,Nc6,Bb5,Qe7,O-O,Nf6,Nc3,a6,Ba4,d6,d3,h6,Re1,Bd7,Be3,Nb8,Bb3,Nc6,d4,exd4,Nxd4,Nxe4,Nxc6,Nxc3,bxc3,bxc6,Bd4,Be6,Bxe6,fxe6,Qf3,d5,Qh5+,Kd7,Qg6,c5,Be5,Qg5,Qd3,Be7,Bg3,h5,h4,Qf6,Qe3,Bd6,Bxd6,cxd6,g3,e5,Rab1,Kc7,Qd3,Qe6,c4,d4,Qb3,Rhb8,Qa4,Rxb1,Rxb1,Qd7', 'Rb7+,Kxb7,Qxd7+', 'https://lichess.org/training/UH4lr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UH7Jx', 'Rapid', 'BrickTalk', 2010, 'brsil', 2156, 'Nf3,d5,g3,c5,Bg2,Nc6,c4,e6,O-O,Nf6,cxd5,exd5,d4,cxd4,Nxd4,Be7,Nc3,O-O,Bf4,a6,Rc1,Qb6,Nxc6,bxc6,Na4,Qb5,Qc2,Bf5,Qxf5,Qxa4,a3,Rac8,Be5,Rfe8,Rfd1,Qb5,b4,Qxe2,Bxd5,Nxd5,Rxd5,Bg5', 'Qxg5,f6,Bxf6', 'https://lichess.org/training/UH7Jx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uH84w', 'Rapid', 'momo_klaus', 1961, 'Perbonsa', 1935, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bf5,c4,Nc6,Nc3,Nf6,c5,e6,Be3,Be7,Bd3,Bxd3,Qxd3,O-O,O-O,a6,a3,b6,b4,b5,Bg5,h6,Bh4,Nh7,Bg3,Bf6,Ne5,Ne7,f4,Nf5,Bf2,Qc7,g4,Ne7,Bg3,Nc6,h4,Be7,Kg2,Nf6,Kh3,Nd7,Rf2,a5,f5,Ncxe5,dxe5,Qb7,fxe6,fxe6,Rxf8+,Bxf8,bxa5,Rxa5,Ne2,Nxc5,Qg6,Qf7,Qc2,Ne4,Nf4,Rxa3,Rxa3,Bxa3,Qb3,b4,Qa4,Nf2+,Bxf2,Qxf4,Qe8+,Kh7,Bg3,Qe4,h5,d4,Qxe6,d3,Qd6,Bb2,e6,Bc3,e7,d2', 'Qg6+,Qxg6,hxg6+,Kxg6,e8=Q+', 'https://lichess.org/training/uH84w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UH8gy', 'Rapid', 'cmyf', 1780, 'Gniz', 1812, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,exd6,Qxd6,Nf3,Bg4,Be2,Nc6,O-O,g6,Nc3,Bg7,Nxd5,Qxd5,h3,Bxf3,Bxf3,Qxd4,Qxd4,Bxd4,Bxc6+,bxc6,Rd1,c5,b3,O-O,Rb1,Rfd8,Bg5,Rd7,Rbc1,Rad8,Kf1,Kf8,Be3,Bxe3,Rxd7,Rxd7,fxe3,Rd2,Rxc5,Rxa2,b4,Rb2,b5,f6,Ke1,Rxg2,Kd1,Rg3,Rc7,Rxe3,Rxa7,Rxh3,b6,Rb3,b7,Kf7,Kc2,Rb6,Kc3,Ke6,Kc4,Kd6', 'Ra6,Rxa6,b8=Q+,Ke6,Qc8+', 'https://lichess.org/training/UH8gy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uH906', 'Blitz', 'wg132456', 1539, 'klotz', 1554, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Bg4,Nc3,exf4,Ne5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/uH906');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHBPc', 'Rapid', 'winesauce', 1712, 'G147117281-massar', 1783, 'e4,c5,Nf3,Nc6,Bb5,g6,c3,Bg7,Bxc6,bxc6,d4,cxd4,cxd4,d5,e5,f6,Bf4,Bg4,h3,Bd7,O-O,fxe5,dxe5,Nh6,Re1,O-O,Qd2,Nf5,e6,Bc8,Nc3,d4,Ne4,Bb7,Neg5,c5,Rac1,h6,Nf7,Qb6,Be5,Bxf3,Bxg7,Kxg7,gxf3,Qb7,Re5,Rxf7,exf7,Kxf7,Qe2,d3,Qxd3,Nd4,Qc4+,e6,Qxc5', 'Nxf3+,Kf1,Nxe5,Qc7+,Qxc7', 'https://lichess.org/training/UHBPc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHeFx', 'Rapid', 'caravan', 1653, 'HappyPaul', 1751, 'e4,d5,exd5,Nf6,Bc4,Nxd5,h3,Nc6,Ne2,Bf5,Ng3,e6,Nxf5,exf5,O-O,Bc5,Re1+,Nce7,Nc3,Nxc3,dxc3,Qxd1,Rxd1,Rd8,Bf4,c6,Re1,O-O,Bg5,Rfe8,a3,h6,Bh4,Rd2,b4,Bd6,Bd3,g5,Bg3,f4,Bh2,Kf8,Rad1,Rxd1,Rxd1,Nd5,c4,Nc3,Rd2,Na4,f3,Nb2,Be4,Rd8,Bd3,Nxc4,Bxc4,Bc5+,bxc5,Rxd2,Bd3,Ke7,Kf1,Ke6,Ke1', 'Rxg2,Bxf4,gxf4', 'https://lichess.org/training/UHeFx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UhgMB', 'Rapid', 'shyamall', 1621, 'Fatih12345677', 1632, 'Nf3,c5,g3,d6,d4,cxd4,Qxd4,Nc6,Qe3,e6,Bg2,Nf6,h3,Be7,O-O,O-O,Nc3,b6,Ne5,dxe5,Bxc6,Qc7,Qf3,Rb8,Nb5,Qd8,Nxa7,Nd5,Nxc8,Rxc8,Ba4,f5,c3,e4,Qg2,Nc7,Bb3,Bc5,Bf4,Re8,h4,h6,Rfd1,Qf6,Bxc7,Rxc7,Rd2,Rcc8,Rad1,Kf7,Rd7+,Kg8,Ba4,Kh8,Ra7', 'b5,Bxb5,Bxa7,Bxe8,Rxe8', 'https://lichess.org/training/UhgMB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHgxq', 'Blitz', 'nesir', 1792, 'Ashbyseanmac', 1781, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Nc3,Nxc3,bxc3,Be7,Bf4,O-O,Bd3,c6,h3,h6,O-O,Nd7,Qd2,Nf6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/UHgxq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHHdh', 'Rapid', 'satishvissy', 1879, 'Polymath123', 1814, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Bd7,Be2,g6,Be3,Bg7,Qd2,a6,f4,b5,a3,Qc8,O-O,Nh6,Nxc6,Bxc6,f5,gxf5,Bxh6,Bxc3,Qxc3,Rg8,Bf3,fxe4,Bh5,Bd5,Qxc8+,Rxc8,Rad1,Be6,c3,Rc5,Be2,Bh3,Rf2,e3,Bxe3,Re5,Bd4,Reg5,g3,h5,Bf1,Be6,Bg2,h4,Bc6+,Kf8,Kh1,hxg3,hxg3,Rxg3,Rdf1,Bf5,Rh2,e6,Rh8', 'Rxh8+,Bxh8,Rh3+,Kg1,Rxh8', 'https://lichess.org/training/UHHdh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uHHg2', 'Rapid', 'mezz75', 1628, 'buya', 1744, 'g3,e5,Bg2,Nf6,e4,d6,d3,Be7,Ne2,Nc6,a3,Be6,b4,Bg4,f3,Be6,O-O,Qd7,Bb2,h6,Nd2,g5,d4,exd4,Nxd4,Nxd4,Bxd4,h5,c4,h4,g4,h3,Bh1,O-O-O,Qe2,Rhg8,Rad1,Nxg4,fxg4,Bxg4,Bf3,Be6,Bxa7,g4,Bh1,g3,Bf3,g2,Rfe1,Qa4,Bf2,Qxa3,b5,Bf6,Ra1,Qc3,Rec1,Qe5,Bg4,Qg5,Ra8+,Kd7,Rxd8+,Rxd8,Bxe6+,fxe6,Rc2,Be5,Nf3,Qf6,Bh4,Qf4,Bxd8,Kxd8,Nxe5,Qxe5,Rc1,Qf4,Rf1,Qe5,Qg4,Ke7,Rd1', 'Qc5+,Rd4,Qxd4#', 'https://lichess.org/training/uHHg2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHHz8', 'Classical', 'inakineptuno', 1668, 'richyreke2103', 1858, 'd4,Nf6,Nc3,d5,Bf4,g6,Nf3,Bg7,h3,O-O,e3,b6,Bd3,Bb7,Qe2,a6,O-O-O,Nbd7,g4,c5,dxc5,Nxc5,Rhg1,b5,a3,e6,h4,Rc8,h5,Nxd3+,Qxd3,Qe7,hxg6,hxg6,Bg5,Qc7,Rh1,Nxg4,Bh4,Bxc3,Qxc3,Qxc3,bxc3,Rxc3,Rdg1,Nxf2,Bxf2,Rxa3,Kb2,b4,Nd4,e5,Nf5,d4,Rh4,dxe3,Nxe3,e4,Rgh1,Rc8,Rh8+,Kg7,R1h7+,Kf6,Bh4+,Ke6,Rxc8,Bxc8,Rh8,Bd7,Ra8,Rxe3,Rxa6+,Kd5,Be7,Bb5,Rb6,Kc4,Rb8,f5,Rc8+,Kd4', 'Bc5+,Ke5,Bxe3', 'https://lichess.org/training/UHHz8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uHIdJ', 'Rapid', 'gyuri314', 1698, 'Sciavash', 1832, 'e4,c5,Nc3,a6,d3,e6,Bf4,d6,e5,d5,d4,c4,Nf3,b5,b4,Bb7,h3,Qc7,Nh2,Nc6,Be3,Nxb4,f4,Ne7,Nf3,Nf5,Bf2,Nc6,g4,Nfe7,Bg2,Ng6,f5,Nf4,Bf1,Bb4,Qd2,Qa5,Qxf4,Bxc3+,Ke2,Bxa1,fxe6,fxe6,Ng5,Qxa2', 'Qf7+,Kd8,Nxe6+,Kc8,Qc7#', 'https://lichess.org/training/uHIdJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uhIvB', 'Rapid', 'Skirah', 1631, 'h2pi', 1619, 'e4,c5,Nc3,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bb5,Bd7,O-O,e6,Bg5,Be7,Re1,O-O,Bxc6,bxc6,b4,e5,Nf5,Re8,Nxe7+,Qxe7,f3,Kh8,a4,h6,Bh4,Rg8,b5,g5,Bg3,Nh5,Bf2,Nf4,Rb1,g4,Bg3,gxf3,Qxf3,Bg4,Qe3,Qg5,bxc6,Rac8,Rb7,Rxc6,Rxf7,Rxc3,Qxc3,Ne2+,Rxe2,Bxe2,Qc7,Rg7,Rxg7', 'Qe3+,Bf2,Qc1+,Be1,Qxe1#', 'https://lichess.org/training/uhIvB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHJaa', 'Blitz', 'paulgad', 1970, 'metallist1975', 1957, 'c4,e6,Nc3,d5,d4,f5,g3,c6,Bg2,Nf6,b3,Bd6,Bb2,O-O,e3,Nbd7,Nge2,Ne4,O-O,Ndf6,Nxe4,Nxe4,Nc3,Bd7,cxd5,exd5,Rc1,g5,f3,Nxc3,Bxc3,Qe7,Qd2,f4,exf4,gxf4,g4,h5,h3,Rae8,Rce1,Qh4,Qd3,Kg7,Bd2,Qg3,Qb1,hxg4,Rxe8,Bxe8', 'Be1,gxf3,Bxg3', 'https://lichess.org/training/UHJaa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UhJDS', 'Blitz', 'ebarba894', 1803, 'luisjomg19', 2120, 'd4,c6,Bf4,d5,e3,e6,Nf3,Bd6,Ne5,Nf6,Nd2,O-O,Bd3,Qe7,h4,Nbd7,g4,Ne8,g5,Bxe5,dxe5,c5,c3,a6,h5,b5,g6,fxg6,hxg6,h6,Qh5,Rxf4,exf4,c4,Bc2,Nc5,f5,exf5,Bxf5,Qxe5+,Kd1,Bxf5,Re1,Qf4,Re2,Bg4', 'Qxd5+,Ne6,Qxa8,Bxe2+,Kxe2', 'https://lichess.org/training/UhJDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHKqq', 'Blitz', 'NM Sandpacer', 2444, 'LifooJunior', 2446, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Ne4,Bxe7,Qxe7,Nxe4,dxe4,c3,c5,dxc5,Qxc5,Qa4+,Nc6,Qxe4,Qxe5,Qxe5,Nxe5,f4,Ng4,h3,Ne3,Bb5+,Bd7,Bxd7+,Kxd7,Kf2,Nd5,g3,Rhd8,Nf3,Ke7,Rhe1,Nb6,Nd4,Na4,Re2,Rac8,f5,Nc5,Kf3,Kf6,fxe6,Nxe6,Nxe6,fxe6,Rae1,Rc6,Re4,Rd3+,R1e3,Rxe3+,Kxe3,Rc5,a4,Re5,Kd4,Rd5+,Ke3,Rd1,b4,Rg1,Kf4,g5+,Kf3,Ra1,a5,Ke7,Rg4,h6,h4,Ra3,hxg5,Rxc3+,Ke2,hxg5,Rxg5,Rb3,Rg4,Kf6,Kd2,Kf5,Rf4+,Ke5,Rg4,Kd5,Kc2,Rf3,Rg7,b6,Rxa7,bxa5,bxa5,Rxg3,a6,Ra3,Kb2,Ra5,Kb3,Ke4,Kb4,Ra1,Kb5,e5,Rc7,Rb1+,Kc6,Rc1+,Kb7,Rb1+,Ka7,Ra1,Rc6,Kd5,Kb7,Rb1+,Rb6,Ra1,a7,e4', 'Ra6,Rxa6,Kxa6', 'https://lichess.org/training/UHKqq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHkyQ', 'Classical', 'Ruggiero', 1697, 'pericacho22', 1612, 'e4,b6,Nc3,Bb7,Nf3,Nf6,d4,Bxe4,Nxe4,Nxe4,Nh4,e6,Qg4,Nf6,Qf3,Nc6,Qd3,Nb4,Qd1,Ne4,Nf3,d5,c3,Nc6,Bb5,Qd6,Ne5,Be7,Bxc6+,Kd8,Bxa8,Ke8,Bc6+,Kf8,Nd7+,Kg8,Qa4,a5,Qb5,g6,g3,h5,Bf4,e5,Bxe5,Qe6,Bxh8,Nxc3+,Kd2,Nxb5,Bxb5,Kxh8,Rhe1,Bg5+,Kd1,Qg4+,Re2,Qxd4+,Ke1', 'Qb4+,Kf1,Qxb5', 'https://lichess.org/training/UHkyQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UhLwJ', 'Rapid', 'RAlex1967', 1923, 'deepak94', 1941, 'd4,e5,dxe5,Bc5,e3,d6,exd6,Bxd6,h3,Nf6,Nf3,O-O,Bd3,Nbd7,O-O,Ne5,Nxe5,Bxe5,c3,b6,Qc2,Bb7,Qe2,Qd5,f3,Bd6,e4,Qe5,f4,Qc5+,Be3,Qh5,e5,Qxe2,Bxe2,Nd5,Bd4,Be7,Bf3,c6,Bxd5,cxd5,Nd2,Bc8,a3,f6,exf6,Bxf6,Bxf6,Rxf6,Rae1,Ba6,Rf2,h6,Re5,Rd8,Nb3,Bc4,Nd4,Rdf8,g3,g5,f5,b5,g4,a6,Kh2,a5,Kg3,a4,Ne6,Re8,Rf3,Kf7,Rfe3,Kg8,Nc7,Rxe5,Rxe5,Kf7,Nxd5,Rd6,Ne3,Rd2,Rc5,Be2,c4,Rxb2,cxb5,Bxb5,Rc7+,Kf6,Nd5+,Ke5,Nb4,Rb3+,Kh2,Rxa3', 'Rc5+,Ke4,Rxb5', 'https://lichess.org/training/UhLwJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UhMGK', 'Rapid', 'Elden4', 1756, 'apis16', 1712, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Ne2,Nf6,Nbc3,Bb4,Bd2,O-O,Ng3,a6,Bc4,b5,Bb3,Nd4,O-O,Nxb3,cxb3,Bc5,Rc1,Bb6,Bg5,h6,Bxf6,Qxf6,Nd5,Qe6,Nf5,Bb7,Qg4,g5,h4,Bxd5,exd5,Qf6,hxg5,hxg5,d6,Bd8,f4,Bb6+,Kh1,Qh8+,Qh3,Qxh3+,gxh3,exf4,Rc2,Kh7,h4,Rh8,Rh2,Kg6,Ne7+,Kg7,hxg5,Rxh2+,Kxh2,Bd8,Rxf4,Bxe7,dxe7,Re8,Re4,Kg6,Kg3,Kxg5,Kf3,Kf5,Ke3,Kf6,a4', 'Rxe7,Rxe7,Kxe7', 'https://lichess.org/training/UhMGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHMYZ', 'Blitz', 'laap', 1643, 'kapral44', 1611, 'd4,f6,e4,Kf7,e5,g6,Nf3,Bg7,Bc4+,e6,Be3,d5,exf6,Bxf6,Bd3,Ne7,Qd2,a6,Bg5,Nf5,Ne5+,Kg7,Bxf5,exf5,Bh6+,Kg8,O-O,Nd7,f4,b6,Nc3,Bb7,Rf3,c5,Rg3,cxd4,Qxd4,Nc5,b4,Ne4,Nxe4,dxe4,Qc4+,Bd5,Qc3,Qd6,Rd1,Re8,Nc4,Bxc4,Qxc4+,Qe6,Qxa6,Kf7,Re3,Ra8,Qb7+,Be7,Rd7,Rhe8,Bg5,Rxa2,Bxe7,Rxe7,Rxe7+,Qxe7,Qxb6', 'Ra1+,Kf2,Qh4+,Rg3,Qxf4+', 'https://lichess.org/training/UHMYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHOoQ', 'Blitz', 'FM Wilver92', 2568, 'IM Rider_Diaz', 2647, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Qe2,Bc5,c3,O-O,O-O,d6,Rd1,Re8,d3,a6,Ba4,b5,Bb3,Bb6,a4,Rb8,axb5,axb5,Ng5,Re7,h3,h6,Nf3,Re8,Be3,Ne7,Bxb6,Rxb6,Nbd2,Be6,Bxe6,fxe6,Nh2,Ng6,g3,Rf8,d4,Rb8,dxe5,Nxe5,Ndf3,Nxf3+,Nxf3,e5,Nxe5,Qe8,Ng4,Nxe4,Re1,d5,f3,Nxg3,Qg2,Qg6,Qxg3,h5,Qxc7,hxg4,fxg4,b4,Qe5,bxc3,bxc3,Qb6+,Qd4,Qxd4+,cxd4,Rb4,Ra7,Rf6,Ree7,Rg6,Kg2,Rxd4,Kg3,Rd3+,Kh4,Kh7,g5,Rd1,Kh5,Rh1,h4,d4,Rad7,Rd1,Re8,Rg1,Rh8+,Kxh8', 'Kxg6,Re1,Rd8+,Re8,Rxe8#', 'https://lichess.org/training/UHOoQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uhppa', 'Rapid', 'andresvente', 1978, 'NihadMrkonja', 1959, 'd4,d5,e3,a6,f4,h6,Nf3,Bf5,Bd3,Bxd3,Qxd3,e6,Nbd2,Nf6,O-O,Bd6,c3,Nbd7,Ne5,Bxe5,fxe5,Nh7,e4,c6,exd5,cxd5,Qg3,Qg5,Qh3,Qg6,Nf3,O-O,Nh4,Qc2,Qg4,Kh8,Bf4,b5,Bg3,Qxb2,Rae1,Qxc3,Rf3,Qc2,Bf4,Qxa2,Ref1,Rac8,Be3,Qe2', 'Ng6+,fxg6,Rxf8+', 'https://lichess.org/training/Uhppa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UhQaF', 'Rapid', 'AlcianBlue', 2145, 'Wynton_Kelly', 2318, 'e4,d6,d4,g6,c3,c6,Be3,d5,Nd2,Nf6,e5,Ng4,Bf4,Bh6,Bg3,Bg7,Be2,Nh6,f4,O-O,Ngf3,Ng4,Nf1,Na6,h3,Nh6,Ne3,Nf5,Bf2,Qb6,Qd2,f6,g4,Nxe3,Bxe3,Qa5,O-O,Bd7,Bd3,Qc7,Rae1,Rad8,Bf2,c5,Bxa6,bxa6,dxc5,Bb5,Nd4,fxe5,Ne6,Qd7,Nxd8,Rxd8,fxe5,Bxf1,Rxf1,Qa4,b3,Qe4,Bd4,Bxe5,Re1,Bxd4+,cxd4,Qf3,Qg2,Qd3,Rxe7,Qd1+,Kh2,Qxd4,c6,Qc5,Rc7,Rf8,b4', 'Qd6+,Kg1,Qxc7', 'https://lichess.org/training/UhQaF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHQh9', 'Blitz', 'AL_NIK', 2114, 'hurmogal80', 2099, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nge2,d6,O-O,e5,d3,Nge7,Bg5,O-O,Qd2,Be6,Bh6,Rc8,Bxg7,Kxg7,f4,f5,exf5,gxf5,fxe5,dxe5,Qg5+,Ng6,Qxd8,Rfxd8,Bh3,Kf6,g4,f4,g5+,Ke7,Bxe6,Kxe6,Rae1,Nd4,Nxf4+,Nxf4,Rxf4,Rf8,Rf6+', 'Rxf6,gxf6,Nf3+,Kf2,Nxe1', 'https://lichess.org/training/UHQh9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uHSKh', 'Classical', 'grigsimi', 1715, 'chessyasin', 1715, 'e3,e6,d4,d5,Nf3,c5,c3,Nc6,Bb5,Qb6,a4,Bd7,O-O,Nf6,Ne5,cxd4,Nxd7,Nxd7,exd4,O-O-O,Na3,Na5,b4,Nc4,Bxc4,dxc4,Nxc4,Qc6,Na5,Qxc3,Bd2,Qxd4,Rc1+,Bc5,bxc5,Nxc5,Rxc5+,Qxc5,Qf3,Rd7', 'Rc1,Qxc1+,Bxc1', 'https://lichess.org/training/uHSKh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UhSoi', 'Rapid', 'kafkael', 1717, 'Hodos', 1797, 'd4,e6,e4,c5,d5,exd5,exd5,d6,Bc4,Be7,Nf3,Nf6,Nc3,O-O,O-O,Bd7,Ne2,a6,Ng3,b5,Be2,Re8,b3,Qc7,Bb2,Bf8,Bxf6,gxf6,Nh5,Qd8,c3,Bg4,Ng3,Bg7,b4,c4,h3,Bxf3,Bxf3,Nd7,Nh5,Bh8,Qd4,Ne5,Bd1,f5,Qf4,Qd7,Bc2,Nd3,Qg5+,Kf8,Rfe1', 'Rxe1+,Rxe1,Nxe1', 'https://lichess.org/training/UhSoi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UhtiZ', 'Rapid', 'UchihaHAMADA', 2121, 'lyubic98', 2132, 'b3,d5,Bb2,Nc6,e3,e5,Bb5,Bd7,Bxc6,Bxc6,Bxe5,Qg5,Nf3,Qxg2,Rg1,Qh3,Bxg7,Bxg7,Rxg7,O-O-O,Nc3,d4,Rg3,Bxf3,Qxf3,Qxh2,Nb5,dxe3,O-O-O,Qxf2,Qg4+,f5,Qg7,exd2+,Kb1,Ne7,Qxe7,Qxg3,Qe6+,Kb8,Qxf5,Qe1,Qg4,Rhg8,Qh5,Rg1,Nc3,Rh1', 'Qxh1,Qxh1,Rxh1', 'https://lichess.org/training/UhtiZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHTjn', 'Rapid', 'Motobecane', 1860, 'satyamverma62', 1835, 'd4,d5,c4,e6,Nc3,c5,dxc5,Bxc5,cxd5,exd5,e3,Be6,Bd3,Nc6,a3,a6,Nf3,Nf6,O-O,O-O,b4,Ba7,Bb2,Rc8,Rc1,Qd6,Ne2,Bb8,Nf4,Bg4,Bxf6,Qxf6,Nxd5,Qd6,Nf4,g5,Bxh7+,Kxh7', 'Nxg5+,Kg8,Qxg4', 'https://lichess.org/training/UHTjn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uhtv1', 'Rapid', 'viktor_kulikovskiy', 1843, 'gmbchess', 1864, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,Be7,O-O,O-O,Nf3,cxd4,cxd4,f6,exf6,Nxf6,Re1,Qb6,a3,Ng4,Nf4,e5,Nxd5,Qd8,Nxe7+,Qxe7,d5,Rxf3,Qxf3,Nd4,Qe4,Qh4,Bf4,Qxf2+,Kh1,Bf5,Qxf5,Nxf5,Bxf5,Qxf4,Bxg4,Qxg4,Rxe5,Qf4,Rae1,Rf8,h3,h6,d6,Rd8,Re8+,Rxe8,Rxe8+,Kf7,d7,Qc1+,Kh2,Qc7+,Kg1,Qxd7,Re2,Qd1+,Kf2,Qd4+,Kf1,a6,Ke1,b5,Kf1,a5,Ke1,b4,axb4,axb4,Kf1,b3,Ke1,Qd3,Kf2,Qc2,Ke1,Kg8', 'Rxc2,bxc2,Kd2,c1=Q+,Kxc1', 'https://lichess.org/training/Uhtv1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uhVFl', 'Rapid', 'Xavier-Darwin', 1710, 'Maldini33', 1660, 'd4,e6,Nc3,b6,Bf4,Bb7,e3,a6,Nf3,h5,h4,Nf6,Be2,Bb4,a3,Bxc3+,bxc3,Ne4,c4,Qe7,Ne5,d6,Nf3,Qd7,O-O,Nc6,Ng5,Nf6,Bf3,Na5,Bxb7,Nxb7,Qf3,O-O-O,d5,e5,Bg3,Nc5,e4,Ncxe4', 'Nxe4,Nxe4,Qxe4', 'https://lichess.org/training/uhVFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uHvvS', 'Blitz', 'juanangelmoreno81', 2063, 'CM NowInChess', 2263, 'd4,e6,c4,Nf6,Nc3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,Ne4,Qc2,f5,e3,b6,Nf3,Bb7,Bd3,d6,O-O,Nd7,b4,Ng5,Nxg5,Qxg5,e4,e5,d5,f4,f3,Rf6,Rf2,Rh6,Kf1,Rxh2,Ke1,Rf8,Bf1,Rf6,Ke2,Rfh6,Kd3,Rh1,Qe2,Rg1,a4,a5,bxa5,bxa5,Bxa5,Nc5+,Kc3,Rhh1,Bxc7,Qg3,Ra2,Nxe4+,Qxe4,Rxf1,Rxf1,Rxf1,Bxd6,Rc1+,Rc2,Re1,Qf5,Re3+,Kb4,Qe1+,Kb5', 'Rb3+,Bb4,Qxb4#', 'https://lichess.org/training/uHvvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uhw0S', 'Rapid', 'bodyorbrain87', 1836, 'Mahoar', 1833, 'c4,Nf6,f4,c5,Nf3,Nc6,Nc3,d6,e4,g6,Be2,Bg7,O-O,O-O,Nd5,Nxd5,cxd5,Nd4,Nxd4,cxd4,Bd3,Bd7,b3,Qb6,Bb2,Rac8,Qe2,a6,Rac1,e6,dxe6,fxe6,Kh1,e5,f5,Rxc1,Bxc1,Qa5,a4,b5,Ba3,b4,Bb2,gxf5,exf5,d5,Qh5,e4,Be2,d3,Bg4,Bxb2,Qg5+,Bg7', 'f6,Rxf6,Rxf6', 'https://lichess.org/training/uhw0S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uHWhz', 'Blitz', 'Ja_han', 1838, 'leparrain2016', 1902, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bg5,O-O,h3,c6,Nf3,Qa5,Bxf6,exf6,Bd3,Nd7,O-O,Re8,Re1,h6,Qc2,Nf8,b3,Qh5,Re3,Ne6,Rae1,f5,exf5,Nxd4,Nxd4,Rxe3,Rxe3,Bxd4,Re8+,Kg7,fxg6,fxg6,Bxg6,Qg5,Re7+,Qxe7,Ne4,d5,Ng3,Bd7,Nh5+,Kh8,Qd2,Qe5', 'Qxh6+,Kg8,Qh7+,Kf8,Qf7#', 'https://lichess.org/training/uHWhz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uhXq4', 'Blitz', 'Majnoune-shahr', 2214, 'amrrezabakh', 2169, 'b3,c6,Bb2,d5,g3,Bf5,Bg2,Nd7,d3,e6,e3,Ngf6,Nd2,Rc8,Ne2,Bg6,O-O,Bd6,e4,dxe4,Nxe4,Nxe4,Bxe4,Be5,Bxe5,Nxe5,Bxg6,hxg6,Nf4,g5,Ng2,g4,Ne1,Qg5,f4,gxf3,Nxf3,Qh5,Qe2,Ng4,Rae1,Qc5+,Kg2,O-O,h3,Nf6,d4,Qd5,c4,Qd6,Qe5,Rfd8,Qxd6,Rxd6,g4,c5,dxc5,Rxc5,Rd1,Rcc6,Ne5,Rxd1,Rxd1,Rc7,Rd8+,Kh7,g5,Ne4,h4,f6', 'g6+,Kh6,Rh8#', 'https://lichess.org/training/uhXq4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UhXUK', 'Rapid', 'mazorra', 1698, 'B4LZ4C', 1610, 'e4,c5,Bc4,e6,d3,Nc6,Nc3,Nf6,Bb3,d5,e5,Nxe5,Bg5,Be7,h4,h6,Bd2,O-O,f3,c4,dxc4,dxc4,Ba4,a6,Nge2,b5,Bxb5,axb5,Nxb5,Qb6,Nbc3,Qxb2,Bf4,Nfd7,Qd4,Qxa1+,Nc1,Bc5,Qd2,Rd8,Bxe5,Nxe5,Qxd8+,Kh7,Ne2,Be3,Qd1,Bxc1,O-O,Be3+,Kh2,Qxa2,Nc3,Qa3,Nb5,Qc5,Nc3,Bf4+,g3,Be3,Ne4,Qa3,c3,Bb7,Qc2,Bb6', 'Nf6+,Kh8,Qh7#', 'https://lichess.org/training/UhXUK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uHyaZ', 'Rapid', 'SgtMth', 1739, 'SS_Victor', 1713, 'e4,e5,Nf3,c5,Bc4,Nc6,d3,Be7,a3,d6,O-O,Bg4,h3,Bh5,Nbd2,Nf6,Qe1,O-O,c3,a6,a4,h6,Nb3,Bxf3,gxf3,Nh7,Kh2,Bg5,Rg1,Bf4+,Kh1,Qh4,Bxf4,Qxf4,Nd2,Ng5,Rg4,Qf6,Rg3,h5,Qg1,Ne6,Bxe6,fxe6,Qg2,Rf7,Rg1,Kh7,Nc4,Rd8,Ne3,d5,Rg5,dxe4,Rxh5+,Kg8,dxe4,Qxf3,Rg5,Qxg2+,R1xg2,Rd2,Ng4,Rxb2', 'Nh6+,Kf8,Nxf7', 'https://lichess.org/training/uHyaZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uhYC3', 'Bullet', 'Aibek_123', 2067, 'Shanghaiblues', 1974, 'e4,c5,Nc3,Nc6,Bb5,Nf6,Nf3,g6,Bxc6,dxc6,e5,Nd5,Ne4,b6,d3,Bg7,Qe2,O-O,Bd2,Qc7,c4,Nb4,Bc3,Rd8,d4,Bg4,Bxb4,cxb4,Rd1,c5,h3,Bxf3,Qxf3,Rxd4,Rxd4,cxd4,Nf6+,exf6,Qxa8+,Bf8,exf6,Qxc4,Kd2,Qxa2,Rc1,Qxb2+,Rc2,Qa3', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/uhYC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UhYj5', 'Blitz', 'JAPansPY', 1897, 'DrQJ', 1816, 'd4,e6,c4,b6,Nc3,Bb7,e4,Qe7,f4,Nc6,Nf3,O-O-O,a4,h5,Bd2,g6,a5,Bg7,axb6,axb6,d5,exd5,cxd5,Nb4,Qb3,Nxd5,Nxd5,Qxe4+,Ne3,Nf6,Ng5,Qxf4,Nxf7,Ne4,Nxd8', 'Qf2+,Kd1,Qxd2#', 'https://lichess.org/training/UhYj5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uhzgo', 'Rapid', 'Uulitsapoiss', 1604, 'garlic_kasparov', 1607, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bg5,Be7,Qe2,O-O,O-O-O,Re8,Qd2,h6,Bh4,Bd7,Bxf6,Bxf6,Nxd5,Bg4,Nxf6+,Qxf6,f3,Bh5,Bc4,b5,Bxb5,c6,Bc4,Nd7,Nh3,a5,Nf4,Bg6,Nxg6,Qxg6,Qf4,a4,h4,a3,b3,Nb6,h5,Qf6,Qc7,Nxc4,bxc4,Rab8,Rhe1,Rec8,Qa7,Ra8,Qc5,Rcb8,Rd3,Qf4+,Ree3,Re8,d5,cxd5,cxd5,Rac8,Qxa3,Qc4,Rxe8+,Rxe8,Qb3,Re1+,Rd1', 'Qf4+,Kb2,Rxd1', 'https://lichess.org/training/uhzgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UHZmo', 'Rapid', 'LoveVision', 1630, 'damien123', 1658, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,Be7,Bb5,h6,Be3,a6,Ba4,b5,Bb3,Bb7,a4,O-O,h4,b4,Nd5,a5,Nxf6+,Bxf6,Ng5,hxg5', 'hxg5,Bxg5,Qh5', 'https://lichess.org/training/UHZmo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uhzp6', 'Rapid', 'rogerlyra', 1732, 'danizito', 1801, 'e4,Nf6,e5,Nd5,Nf3,d6,d3,g6,a4,a5,c4,Nb6,Nc3,Bg7,Bf4,Bg4,d4,Nc6,Be2,Bxf3,Bxf3,dxe5,dxe5,Qxd1+,Rxd1,Nxc4,Bxc6+,bxc6,b3,Nxe5,Ne4,O-O,O-O,Rfd8,Nc5,Rd5,Rxd5,cxd5,Rd1,c6,h3,Kf8', 'Bxe5,Bxe5,Nd7+,Ke8,Nxe5', 'https://lichess.org/training/Uhzp6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uHZt4', 'Rapid', 'Hierophantc4', 1944, 'withington', 1907, 'f4,Nf6,Nf3,e6,e3,b6,Be2,Bb7,O-O,Be7,Qe1,Rg8,a4,h5,Na3,Na6,d4,Nd5,Bd2,g5,c4,g4,cxd5,gxf3,Bxf3,Bxd5,e4,Bb7,b4,Bh4,g3,Be7,b5,Nb8,d5,h4,g4,h3,Bb4,Bxb4,Qxb4,Qh4,Qc3,Kd8,Nc4,a5,Rad1,d6,dxe6,fxe6,g5,Qxf4,e5,Rxg5+,Kh1,Bxf3+,Qxf3,Qxf3+,Rxf3,Nd7,exd6,cxd6,Rxd6,Rc8', 'Rf8+,Ke7,Rxc8', 'https://lichess.org/training/uHZt4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ui1Sq', 'Rapid', 'gera_b', 1858, 'wjshin', 1764, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,h3,h6,O-O,g5,b4,Bb6,a4,a6,a5,Ba7,Qe2,g4,hxg4,Bxg4,Be3,Qd7,Nbd2,Rg8,d4,Bh3,Nh4,Bg4,f3,Nxd4,cxd4,exd4,Bxh6', 'd3+,Qf2,Bxf2+', 'https://lichess.org/training/ui1Sq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ui2uQ', 'Blitz', 'Eldrail', 2461, 'FM TVEDAS', 2553, 'c4,f5,d3,e6,g3,Nf6,Bg2,Bc5,e3,O-O,Ne2,d5,O-O,dxc4,dxc4,Qxd1,Rxd1,c6,Nbc3,e5,b3,Be6,Bb2,Nbd7,Rd2,g5,Rad1,f4,gxf4,gxf4,exf4,exf4,Nxf4,Bg4,Re1,Rae8,Rxe8,Rxe8,h3,Re1+,Kh2,Bf5,Na4,Bb4,Bc3,Bxc3,Nxc3,Ne5,Re2,Rxe2,Nfxe2,Nd3,Kg3,Nh5+,Kf3', 'Ne1+,Ke3,Nxg2+', 'https://lichess.org/training/Ui2uQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uI4GN', 'Classical', 'kingishandsome', 1703, 'rubentrepanos', 1619, 'c4,c5,Nc3,Nf6,g3,e5,Bg2,Nc6,d3,Be7,Nf3,h6,O-O,O-O,Bd2,d6,h3,a6,a3,Bd7,Rb1,Qc8,Kh2,Nh7,Nd5,Nf6,Nb6,Qd8,Nxa8,Qxa8,b4,d5,cxd5,Nxd5,Nxe5,Nxe5,Bxd5,Bc6,Bxc6,bxc6,bxc5,Bxc5,d4,Bxd4,Bf4,Rd8,Qb3,Ng6,Be3,Bf6,Rfd1,Rxd1,Rxd1,Qe8,Qb7,Ne5,Qxa6,Kh7,Rc1,Bg5,Bxg5,hxg5,Qa4,Qe6,Qe4+,g6,f4', 'Ng4+,hxg4,Qxe4', 'https://lichess.org/training/uI4GN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UI7N0', 'Rapid', 'marpaug2018', 1939, 'happemonkey', 1880, 'e4,e5,Nf3,Nf6,c3,Nc6,Bb5,Nxe4,O-O,Nf6,d4,exd4,cxd4,Be7,Bg5,O-O,Nc3,a6,Bxc6,bxc6,Ne2,Ne4,Bxe7,Qxe7,Ng3,d5,Ne5,Qd6,Rc1,c5,Nxe4,dxe4,Rxc5,Rd8,Nc6,Re8,b4,Bd7,Ne5,Bb5,Re1,f6,Qb3+,Re6,d5,Rxe5,f4,exf3,Rxe5,Qxe5', 'd6+,Kh8,Rxe5', 'https://lichess.org/training/UI7N0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ui8GB', 'Rapid', 'Crawler70', 1736, 'Dbluez', 1748, 'd4,c6,Bf4,d5,e3,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,Bd6,Bg3,Nf6,O-O-O,O-O,Nf3,Bb4,Ne2,Qa5,Kb1,Qb6,c3,Ba3,Qc2,Be7,Be5,Ne4,Nd2,Nxf2,h4,Nxh1,Rxh1,f6,Bf4,Na6,h5,Rad8,h6,g6,g4,Bd6,Nb3,Bxf4,Nxf4,c5,dxc5,Qc6,Nxg6,hxg6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/Ui8GB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ui9Kf', 'Rapid', 'Black_king_1', 1855, 'fran9500', 1778, 'd4,d5,c4,dxc4,e4,e5,d5,Bb4+,Nc3,c6,Bxc4,cxd5,exd5,Nf6', 'Qa4+,Nbd7,Qxb4', 'https://lichess.org/training/Ui9Kf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uI9oi', 'Rapid', 'ShtorMaxChess', 2098, 'kolloc', 1801, 'd4,d6,c4,Nf6,Nc3,g6,e4,Bg7,Nf3,O-O,Be2,c6,O-O,Nbd7,Be3,Qc7,h3,Re8,Nd2,e5,d5,c5,a3,a6,b4,b6,Qc2,Nf8,Rfb1,Rb8,Rb3,Bd7,Rab1,h6,Qb2,b5,bxc5,dxc5,cxb5,axb5,Nxb5,Bxb5,Rxb5,Rxb5,Qxb5,N8d7,Nb3,Rb8,Qc4,Bf8,Rc1,Qb7,Nxc5,Qb2,Nxd7,Nxd7,a4,Kg7,Bd3,Rb4,Qc2,Qa3,Bb5,Rb2,Qc7,Nf6,Qxe5,Bd6,Qd4,Rb4,Rc4', 'Rb1+,Bc1,Rxc1+,Rxc1,Qxc1+', 'https://lichess.org/training/uI9oi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UIaSv', 'Rapid', 'cszgallagher', 1835, 'Fazilguseynov', 1884, 'e4,e5,Nf3,d6,d4,Nc6,Bb5,Bg4,d5,Bxf3,Qxf3,a6,dxc6,axb5,cxb7,Rb8,Nc3,c6,O-O,Rxb7,Rd1,Nf6,Bg5,Be7,a4,b4,Ne2,c5,Ng3,O-O,Nf5,h6,Bxf6,Bxf6,Nxd6,Rd7,Nxf7,Rfxf7,a5,Rxd1+,Rxd1,Qxa5,h3,Qc7,Qg4,Rf8,Rd7,Qc6,h4,h5,Qf5,Bxh4,Qh3,Bxf2+,Kh1,Be3,Re7,Rf1+,Kh2,Bf4+,g3,h4,Qxf1,Bxg3+,Kg2,Qxe4+,Qf3,Qxc2+,Kh3,Qg6,Re8+,Kh7,Qf8,Qd3', 'Qh8+,Kg6,Re6+,Kf5,Qh7+,Kxe6,Qxd3', 'https://lichess.org/training/UIaSv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uIBUS', 'Blitz', 'HornyakGeza', 1868, 'Reeenan', 1747, 'd4,d5,e3,c5,Nf3,Nf6,Be2,Nc6,O-O,Bg4,c3,e6,Ne5,Bxe2,Qxe2,c4,b4,Bd6,f4,Ne4,Bb2,Bxe5,fxe5,O-O,Nd2,Nxd2,Qxd2,f6,exf6,Rxf6,Rxf6,Qxf6,Rf1,Qg6,b5,Ne7,Ba3,Nf5,Rf2,b6,Re2,a6,bxa6,Rxa6,Bb4,Nh4,Kh1,Qe4,Qc2,Qg4,a3,Nf5,Kg1,Nh4,Kf1,Nf5,Qd2,Ra7,Qe1,Rf7,Kg1,Nh4,Kh1,Rf6,Be7,Rh6,h3,Qe4,Qg3,Nf5', 'Qb8+,Kf7,Qf8+,Kg6,Qe8#', 'https://lichess.org/training/uIBUS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UIbVH', 'Blitz', 'LoverBob', 1585, 'palaunisi', 1702, 'e4,e5,Nf3,d6,d4,Bg4,Be2,exd4,Qxd4,Nc6,Bb5,Bxf3,gxf3,Nf6,Bxc6+,bxc6,Qc4,Qd7,b3,Be7,Bb2,O-O,Nc3,Nh5,O-O-O,Bf6,e5,Bg5+,Kb1,d5,Rhg1,Bh6,Qh4,Nf4,Na4,Qe6,Bc1,Qxe5,Nc5,Rad8,Rg4,Ng6,Qh3,d4,Ne4,c5,Re1,c4,Bxh6,gxh6,Qxh6,cxb3,cxb3,d3,Rh4,Qg7', 'Nf6+,Kh8,Qxh7+,Qxh7,Rxh7#', 'https://lichess.org/training/UIbVH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uicck', 'Blitz', 'CM otrov11', 2419, 'DanSFz', 2205, 'd4,d5,c4,e6,Nf3,Be7,g3,Nf6,Bg2,O-O,O-O,dxc4,a4,a6,Qc2,Bd7,Nbd2,Bc6,Nxc4,Be4,Qd1,Nc6,Ncd2,Bg6,Nb3,Nb4,Ne1,c6,f3,Qb6,a5,Qb5,e4,Rfd8,Be3,c5,Qc1,cxd4,Nxd4,Qd7,Ra3,Rac8,Rc3,Rxc3,bxc3,Nc6,Nec2,Nxa5,Bf2,Nc4,Re1,b5,Bf1,Rc8,Rd1,Qb7,Nb3,h6,Ncd4,Nd7,Qb1,Nc5,Qa2,Nxb3,Nxb3,Kh7,Bxc4,Rxc4', 'Na5,Qc8,Nxc4', 'https://lichess.org/training/Uicck');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uicl3', 'Blitz', 'momir111', 1964, 'rookworth', 1977, 'e4,e6,Nf3,d5,exd5,exd5,d4,c6,Be2,Nf6,O-O,Be7,c4,O-O,cxd5,Nxd5,Nc3,Be6,h3,Nd7,Ne5,Bf6,f4,Bf5,Bf3,Nxc3,bxc3,Nb6,Be2,Nd5,Bb2,Bxe5,fxe5,Bg6,Bd3,Ne3,Qf3,Nxf1,Rxf1,Bxd3,Qxd3,Qg5,Qf3,Rad8,Ba3,Rfe8,Qxf7+,Kh8,e6,Qe3+,Kh1,Qxe6,Qf2,h6,Qb2,b6,Qc2,Qe2', 'Rf8+,Rxf8,Qxe2', 'https://lichess.org/training/Uicl3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UiCPD', 'Rapid', 'Martin230', 1678, 'Ilpessimo', 1647, 'e4,c5,Nf3,d6,Nc3,Nc6,Bb5,Bd7,O-O,Nf6,Re1,a6,Bxc6,Bxc6,e5,dxe5,Nxe5,Qc7,Nxc6,Qxc6,d3,e6,Bg5,Be7,Ne4,c4,Nxf6+,Bxf6,Bxf6,gxf6,dxc4,Qxc4,b3,Qc6,c4,Ke7,h3,Rhg8,f3,Rad8,Qc2,Rg7,Rad1,Rdg8,Re2,Qxf3,Red2,Qe3+,Kh1,f5,Rd7+,Kf6,Qb2+,Qe5,Qxe5+,Kxe5,R1d2,f4,Rxb7,f3,gxf3,Rg1+,Kh2,Kf4,Rxf7+,Ke3,Rfd7,Kxf3,R7d3+,Ke4,a4,Rb1,Rd4+,Ke5,R2d3,Rb2+,Rd2,Rxb3,Rd6,a5,Ra6,Rb4,Rxa5+,Kf6,c5,Rc8,Rc2,Rc6,Ra7,h6,Kg3,e5,h4,h5,Ra5,Rb3+,Kg2,Rb4,Rf2+,Rf4,Rxf4+,exf4,Kf3,Kf5,Rb5,Ke5,a5,Kf5,a6,Rxa6,c6+,Ke6,c7,Rc6', 'Rb6,Rxb6,c8=Q+', 'https://lichess.org/training/UiCPD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UIe1G', 'Blitz', 'WGM GoValya', 2264, 'zakramnika', 2540, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,c6,g3,Be7,Bg2,O-O,e3,h6,Bxf6,Bxf6,Nge2,Nd7,O-O,Re8,b4,a6,a4,b5,axb5,cxb5,Nxb5,Rb8,Nd6,Re6,Nxc8,Qxc8,Bxd5,Rd6,Bg2,Rxb4,Qc1,Qb8,Nc3,Rb3,Ne4,Rdb6,Nxf6+,Nxf6,e4,Rb2,e5,Ng4,h3,Nxf2,Rxf2,Rxf2,Kxf2,Rb2+,Kg1,Qb3,Qc8+,Kh7,Rxa6,Qd1+,Kh2,Qf3,Qc6', 'Rxg2+,Kh1,Qf1#', 'https://lichess.org/training/UIe1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uiEBm', 'Rapid', 'Berni_33', 1636, 'Logvin_Michael', 1603, 'c4,e5,g3,d5,cxd5,Qxd5,f3,Nf6,Nc3,Qc6,b3,Bb4,Bb2,Bf5,Bg2,Qd6,e4,Be6,Nge2,O-O,O-O,Nc6,Nb5,Qc5+,d4,Qxb5,d5,Nxd5,exd5,Qxd5,f4,Qxd1,Raxd1,Na5,fxe5,Bg4,Bf3,Bc5+,Kg2,Bxf3+,Rxf3,Nc6,Nf4,Rad8,Rxd8,Rxd8,e6,Rd2+,Kh3,Rxb2', 'exf7+,Kxf7,Nd3+', 'https://lichess.org/training/uiEBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UieiZ', 'Rapid', 'konstans337', 1968, 'nikita_yani', 1797, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Nf6,e5,Bb4+,Bc3,Bxc3+,Nxc3,d5,exf6,dxc4,Qxd8+,Kxd8,O-O-O+,Bd7,fxg7,Rg8,Nf3,Rxg7,Ne5,Rxg2,Nxf7+,Ke7,Ne5,Rxf2,Rhe1,Be6,Nb5,Na6,Rf1,Rxa2,Nd4,Rd8,Ndc6+,bxc6', 'Nxc6+,Ke8,Rxd8#', 'https://lichess.org/training/UieiZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uiFae', 'Rapid', 'Pierrechen', 1758, 'TravelwithChess', 2000, 'd4,Nf6,Bf4,g6,e3,Bg7,c4,O-O,Nc3,d6,Nf3,Re8,Bd3,Nc6,O-O,e5,dxe5,dxe5,Bg5,h6,Bxf6,Bxf6,Ne4,Bg7,Qb3,f5,c5+,Be6,Bc4,Bxc4,Qxc4+,Kh7,Rfd1,Qe7,Nc3,e4,Nd4,Ne5,Qb3,c6,Rd2,Rab8,Rad1,Qxc5,Ne6,Qe7,Nxg7,Kxg7,Ne2,Rbd8,Nd4,b6,Ne6+,Qxe6,Qxe6,Rxd2,Qb3,Red8,Rxd2,Rxd2,h3,Kf6,Qa3,Rd7,Qf8+,Kg5,h4+,Kh5,Kh2,Rd2,Kg3,Ng4,f3,Nxe3,fxe4,Rd3,exf5,Nxf5+,Kf4,Rd1', 'g4+,Kxh4,gxf5', 'https://lichess.org/training/uiFae');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UIfjE', 'Classical', 'Salnikova_Ekaterina', 1810, 'Sturgeon2015', 1703, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nc3,Bb4,Nf3,Bxc3+,bxc3,Qa5,Bd2,d5,exd5,Qxd5,Be2,Nf6,O-O,O-O,Qb3,Qxb3,axb3,a6,Bd3,Re8,Bf4,h6,h3,Nd5,Bd2,e5,dxe5,Nxe5,Nxe5,Rxe5,Rfe1,Rxe1+,Rxe1,Be6,c4,Nf6,Bc3,Nd7,Be4,Nc5,Bc2,b5,cxb5,axb5,b4,Na4,Be5,Bc4,Ra1,Nb6,Rxa8+,Nxa8,f3,f6,Bd6,Kf7,Kf2,g6,Ke3,f5,g3,Nb6,Kd4,Ke6,Bc5,Nd7,Ba7,Ne5,f4', 'Nc6+,Kc5,Nxa7', 'https://lichess.org/training/UIfjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uiFMn', 'Blitz', 'ChellRS', 1576, 'ValterVolt', 1565, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,a6,Ba4,b5,Bc2,cxd4,cxd4,Qh4,Ne2,Bb4+,Nbc3,Nge7,O-O,Nf5,Be3,Nxe3,fxe3,O-O,Rf4,Qe7,Ng3,f5,exf6,Rxf6,Qh5,Rh6,Qf3,Bd6,Rg4,Nb4,Bb3,e5,Bxd5+,Nxd5,Qxd5+,Qe6,Nf5,Rf6,Rxg7+,Kf8,Qxa8,Qxf5,Rxh7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/uiFMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uIG4z', 'Rapid', 'mojo1063', 1900, 'rossbarkley', 2020, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,f3,a6,Na3,b5,Nab1,Be7,Be3,O-O,a3,Be6,Be2,d5,exd5,Nxd5,Nxd5,Bxd5,Nc3,Bc4,Bxc4,bxc4,O-O,Nd4,Rc1,Bg5,Bxg5,Qxg5,Ne4,Qg6,Qe1,f5,Nd2,e4,fxe4,fxe4,Qxe4', 'Qxe4,Nxe4,Ne2+,Kh1,Nxc1', 'https://lichess.org/training/uIG4z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uiGdg', 'Rapid', 'skaan220', 2035, 'pro_chess_thrower', 2150, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,c5,c3,Nc6,Bd3,g6,O-O,Bg7,Nbd2,c4,Bc2,O-O,e4,Nh5,Bg3,Nxg3,hxg3,b5,e5,f6,Re1,fxe5,dxe5,Qc7,Rc1,Nxe5,Nxe5,Bxe5,Nf3,Bg7,Nd4,Qc5,Qd2,Re8,Re2,b4,Rce1,e5,cxb4,Qxd4', 'Qxd4,exd4,Rxe8+', 'https://lichess.org/training/uiGdg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UigTD', 'Rapid', 'Egor0801', 1660, 'Ayazdan', 1645, 'e4,d5,exd5,c6,Nc3,Nf6,d4,Nxd5,Nxd5,cxd5,c3,Nc6,Bd2,e6,Bb5,Bd7,Nf3,Na5,Bxd7+,Qxd7,Ne5,Qd6,O-O,Be7,f4,f6', 'Qh5+,g6,Nxg6', 'https://lichess.org/training/UigTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UiHHG', 'Rapid', 'ulpi', 1803, 'Millikan', 1974, 'e4,c6,d4,d5,e5,h5,Nf3,g6,Bd3,Bh6,Nc3,Bxc1,Rxc1,Nh6,h3,Bf5,O-O,e6,Ne2,Nd7,Ng3,a6,Nxf5,Nxf5,Bxf5,gxf5,c4,Nb6,cxd5,Nxd5,a3,Rg8,Qd2,Rg6,Kh2,Qe7,Rfe1,Kf8,h4,Kg7,Ng5,f4,Qe2,Rxg5,hxg5,Qxg5,Qf3,Rh8,Rh1,Ne7,Kg1,h4,Rh3,Rd8,Qe4', 'f3,Qxf3,Qxc1+', 'https://lichess.org/training/UiHHG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uIjEj', 'Rapid', 'KingKongHari', 1852, 'vx9mcz', 1805, 'd4,f5,h4,Nf6,h5,h6,Nc3,d5,Bf4,Be6,e3,Bf7,Nb5,Na6,Nc3,e6,Nf3,Bb4,Ne5,O-O,Nxf7,Rxf7,a3,Bxc3+,bxc3,c5,f3,c4,g4,fxg4,fxg4,Ne4,g5,Nxc3,Qg4,Qa5,Kf2,Ne4+,Kg2,Qd2+,Be2,hxg5,Rad1,Rxf4', 'Qxe6+,Rf7,Rxd2', 'https://lichess.org/training/uIjEj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uIJLP', 'Rapid', 'inspektor54', 1695, 'Gorillla', 1667, 'e4,Nc6,d4,e5,c3,Nf6,d5,Ne7,Bd3,Ng6,Bg5,Bc5,Nf3,d6,O-O,O-O,b4,Bb6,a4,a6,Nbd2,h6,Be3,Ba7,b5,Ng4,Bxa7,Rxa7,h3,Nf6,Nh2,Nf4,Be2,Bd7,Kh1,Ra8,bxa6,bxa6,c4,Qe7,Ra3,Nh7,Bg4,f5,exf5,Bxf5,Bxf5,Rxf5,Ne4,Raf8,Ng4,Qh4,Kh2,Ng5,Nxg5,Rxg5,Rg3,Nh5,Re3,Rf4', 'g3,Nxg3,fxg3', 'https://lichess.org/training/uIJLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UIJnl', 'Classical', 'LSD_Estrelas', 1842, 'Shadaris', 1880, 'd4,d5,c4,e6,cxd5,exd5,Nf3,Nc6,Bf4,Be7,e3,Bf6,Bb5,a5,O-O,Ne7,Re1,O-O,Nc3,Ng6,Bg3,Be7,Qa4,Nb8,Qb3,c6,Bd3,Kh8,a4,Bb4,Re2,Ne7,Ne5,Nd7,Nf3,Ng6,Na2,f5,Bf4,Nxf4,exf4,Bd6,Ne5,Be7,Nc3,Nxe5,dxe5,Bb4,Qc2,Qe7,Re3,d4,Nd5,dxe3,Nxe7,exf2+,Kxf2,Bxe7,Bc4,Bb4,e6,Ra7,Rd1,b5,axb5,cxb5,Bd5,Re7,Qc6,h6,Qxb5,Bxe6,Bxe6,Rxe6,Rd7,Kh7,Qb7,Bc5+,Kf1,Rg6,Qb5,Bb4,Kf2,Kh8,Qe5,Kg8,g3,Kh7,Qd5,Rb6,Qd4,Rbf6,b3,R6f7,h4,Rxd7,Qxd7,h5,Ke3,Kg6,Qe6+,Rf6,Qe8+,Kh6,Kd4,Bd6,Kd5,Ba3,Qa4,Bb4,Ke5,Bd6+,Kd5,Bb4,Qe8,Rf8,Qe6+,g6,Kc6,Kg7,Kd7,Rf7+,Kc6', 'Rf6,Kd5,Rxe6', 'https://lichess.org/training/UIJnl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uIKkg', 'Rapid', 'FoxClaw', 2197, 'Goke09', 2214, 'c4,e5,g3,Nc6,Bg2,f5,d3,Nf6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O,d6,Rb1,Qe8,b4,Qh5,b5,Ne7,e3,f4,exf4,exf4,Nd4,Qh6,Qe2,fxg3,fxg3,Ng6,Ne4,Ng4,h4,Rxf1+,Rxf1,Ne3,Rf2,Bg4,Bf3,Bxf3,Rxf3,Ng4,Ng5,N6e5,Rf4,Nf6,Nf5,Qh5,Qxh5,Nxh5,Ne7+,Kh8,Re4,Nxg3,Rxe5,h6,Ng6+,Kg8,Re7,hxg5,hxg5,Rc8,Re3,Nf5,Rf3,Kf7,Nh4,g6,Nxf5,gxf5,Rxf5+,Kg6,Rd5,Rf8,a4,Rf5,Rxf5,Kxf5,Kf2,Kxg5,Ke3,Kf5,Kd4,Kf4', 'Kd5,Ke3,d4', 'https://lichess.org/training/uIKkg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UiMTu', 'Rapid', 'Kuromiya-vs-Deutsch', 1733, 'aria41', 1744, 'd4,f5,Nf3,Nf6,Nc3,e6,Bg5,c6,Ne5,d5,e3,Bd6,Bxf6,Qxf6,f4,O-O,Qf3,Nd7,Ne2,c5,c3,cxd4,cxd4,Nb6,Ng3,Bd7,Nh5,Qe7,Qg3,Bb4+,Kf2,Rac8,Be2,g6,Nxg6,hxg6,Qxg6+,Kh8,Rac1,Qh7,Qg3,Be7,Qf3,Rg8,Ng3,Rxc1,Rxc1,Qxh2', 'Rh1,Qxh1,Nxh1', 'https://lichess.org/training/UiMTu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UINzu', 'Rapid', 'MountainSounds', 1879, 'Youssef_44', 1841, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,c6,Bc4,Bf5,Qe2,e6,Ng5,Be7,O-O,O-O,Bd2,Qc7,h3,Nbd7,Nce4,Rfe8,Nxf6+,Bxf6,Bd3,h6,Ne4,Bxd4,g4,Bh7,c3,Bb6,g5,hxg5,Nxg5,Bxd3,Qxd3,g6,Qf3,Rf8,Bf4,e5,Bd2,Qd6,Qg4,Bd8,Rfd1,Nf6,Qh4,Kg7,f4,Rh8', 'Qxh8+,Kxh8,Nxf7+,Kg8,Nxd6', 'https://lichess.org/training/UINzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uipCg', 'Classical', 'Evan234', 1648, 'Pinecone-08', 1646, 'e4,c5,c4,Nc6,d3,e6,h3,Nf6,Bg5,Be7,Nc3,h6,Bh4,b6,Nf3,Bb7,Be2,O-O,O-O,d6,Bxf6,Bxf6,Qd2,a6,Rab1,Nd4,Nxd4,Bxd4,a3,Re8,Bf3,Be5,Ne2,Qf6,b4,cxb4,axb4,Rec8,Rfc1,b5,cxb5,axb5,Rxc8+,Rxc8,Qa2,Ra8,Qc2,d5,exd5,exd5,Qc5,Bc6,d4,Bc7,Bxd5,Bxd5,Qxd5,Re8,Qxb5,Rxe2,Qxe2,Qxd4,Rc1,Bd6,Rc8+,Kh7,Rc4', 'Qa1+,Qf1,Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/uipCg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UiQHy', 'Classical', 'Kwizatz-Haderach', 1936, 'Yulius', 1924, 'd4,d5,c4,dxc4,Nf3,e6,e4,Nc6,Bxc4,Bb4+,Nc3,Nf6,d5,exd5,exd5,Qe7+,Be3,Ne5,Nxe5,Qxe5', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/UiQHy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uIqMv', 'Rapid', 'strallo33', 1816, 'izombie397', 1717, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Nd5,Ne4,Be7,O-O,O-O,d3,Nb6,b4,Nxa4,bxa5,Qxa5,Bd2,Qc7,Nbc3,Nxc3,Bxc3,f5,Ng3,Bb7,Qh5,g6,Qh6,Bf6,Rab1,Bg7,Qh3,Bc8,Ne2,Qd6,Qf3,Be6,Rb7,Bxa2,Qe3,Bd5', 'Rxg7+,Kxg7,Bxe5+,Qxe5,Qxe5+', 'https://lichess.org/training/uIqMv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uIQvk', 'Blitz', 'marcelo50', 1624, 'S13860122', 1613, 'e4,e5,c4,Bc5,Nc3,Nf6,Be2,O-O,Nf3,d6,O-O,Bg4,d3,Nc6,Be3,Bxe3,fxe3,Nb4,d4,Re8,Rc1,exd4,exd4,Nxe4,Nxe4,Rxe4,a3,Nc6,d5,Na5,b4,Bxf3,Bxf3,Rxc4,bxa5,Ra4,Qxa4,Qg5,Rxc7,h6,Rxb7,Rc8,Rxa7,Qe3+,Kh1,Rc1,Ra8+,Kh7,Rd1', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/uIQvk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uISmZ', 'Classical', 'thiagosc2000', 1806, 'sebdon', 1807, 'd4,d5,Bf4,Nc6,e3,Nf6,Nd2,e6,Ngf3,Bd6,Bg3,Bxg3,hxg3,Bd7,c3,Qe7,Qc2,e5,dxe5,Nxe5,O-O-O,Bg4,Be2,Bf5,Qa4+,c6,Nxe5,Qxe5,Qb4,b6,Nf3,Qc7,Nh4,Be6,g4,Ne4,Rhf1,c5,Qb5+,Bd7,Qd3,Be6,f4,Ng3,f5,Nxe2+,Qxe2,Bd7,Rxd5,O-O,Rd2,a6,e4,Bb5,c4,Bc6,g5,Qg3,Nf3,Rfe8,Rd5,Bxd5,cxd5,b5,e5,Rad8,Rd1,Qf4+,Rd2,Rxd5,f6,g6,g3,Qc4+', 'Qxc4,bxc4,Rxd5', 'https://lichess.org/training/uISmZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uiveW', 'Rapid', 'moghim', 1744, 'Droidfish76', 1809, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Nf6,Nf3,Nxe4,O-O,d5,Bb3,Nc6,Re1,Be6,Nc3,Nf6,Nxd5,Nxd5,Bxd5,Qe7,Bxc6+,bxc6,Qc1,Qd7,Ne5,Qd6,Nxc6,f6,Nd4,O-O-O,Rxe6,Qd5,Qf1,Bc5,Qa6+,Kb8,Nc6+,Ka8,Nxd8,Rxd8,Ree1,Bb6,Bc3,Qf5,g3', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/uiveW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uIX6E', 'Blitz', 'IM ich2', 2405, 'meyssam', 2279, 'd4,Nf6,c4,e6,g3,b6,Bg2,Nc6,e4,d5,e5,Ne4,f3,Bb4+,Kf1,dxc4,fxe4,Qxd4,Qe2,O-O,Nf3,Qc5,Be3,Qa5,Kf2,Ba6,Nc3,Bxc3,bxc3,Qxc3,Rac1,Qa5,Qd2,Qxd2+,Bxd2,Rfd8,Rhd1,Rd7,Bg5,Rxd1,Rxd1,h6,Be3,Rd8,Rxd8+,Nxd8,Bf1,Nc6,h4,Kf8,Ke1,Nb4,Nd2,c3,Nb3', 'Nc2+,Kf2,Bxf1', 'https://lichess.org/training/uIX6E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uIxrh', 'Rapid', 'ucunairda', 1737, 'Albatros203', 1722, 'd4,d5,c4,dxc4,Nc3,e5,e3,exd4,exd4,Nc6,Be3,Nf6,Bxc4,Bb4,Nf3,O-O,O-O,Bg4,a3,Bxc3,bxc3,Qd7,Be2,Qf5,Nh4,Qe4,Bxg4,Nxg4,Nf3,Nxe3,fxe3,Qxe3+,Kh1,Qxc3,Rb1,b6', 'Rc1,Qxa3,Rxc6', 'https://lichess.org/training/uIxrh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UixzK', 'Rapid', 'Covid2030', 1770, 'matencinq', 1722, 'e4,e6,Nf3,d5,exd5,exd5,d4,h6,h3,Nf6,Bd3,c5,dxc5,Bxc5,Be3,d4,Bd2,O-O,O-O,Re8,c3,Nc6,cxd4,Nxd4,Nxd4,Bxd4,Bc3,Bxc3,Nxc3,b6,Nb5,Bb7,Nd6,Re7,Qd2,Rd7,Nxb7,Rxb7,Rac1,Rd7,Rc3', 'Ne4,Qc2,Nxc3', 'https://lichess.org/training/UixzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uIxzY', 'Rapid', 'junnarkarrajesh', 1812, 'Regnieryohann', 1785, 'd4,d5,e4,dxe4,f3,e5,fxe4,Qxd4,Qe2,Nf6,Nc3,Bb4,Bd2,Bg4,Nf3,Bxf3,gxf3,Nc6,O-O-O,Qb6,Na4,Bxd2+,Rxd2,Qa5,b3,b5', 'Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/uIxzY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uIZ1j', 'Classical', 'Donperro', 1826, 'assassin120', 1998, 'c4,e5,Nc3,Nf6,Nf3,d5,Nxe5,d4,Nb1,c5,d3,Bd6,Nf3,Nc6,g3,Be6,Bg2,Qd7,Ng5,Bf5,e4,dxe3,O-O,h6,Ne4,Nxe4,dxe4,exf2+,Rxf2,Bg4,Qf1,Nd4,Nc3,h5,Be3,Be5,h3,Be6,Bf4,Qd6,Rd1,a6,b4,b6,Bxe5,Qxe5,Rd3,Bxc4,Nd5,Rb8,Nf4,g5,Nd5,g4,Nf6+,Kd8,Rxd4+,Qxd4,Qc1,Bxa2,Kh2,Qxf2,Qg5,Kc7,Qe5+,Kc8,Qd6,Be6,e5,Rb7', 'Qc6+,Kd8,Qxb7', 'https://lichess.org/training/uIZ1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UiZO0', 'Blitz', 'johnb-17', 1969, 'Brucal_Ian_Atienza27', 2010, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,g6,Be3,Bg7,Qd2,Nf6,h4,Ng4,Nxc6,bxc6,Bd4,Bxd4,Qxd4,e5,Qd2,h5,O-O-O,Ke7,f4,Be6,f5,gxf5,exf5,Bxf5,Qg5+,Ke6,Qd2,Qc7,Bc4+,d5,Nxd5,cxd5,Bxd5+,Ke7,Qg5+,Nf6,Qxf5,Rac8,Bb3,Rhg8,Rhe1,Rxg2,Rxe5+,Kf8,Qxf6', 'Rxc2+,Kb1,Rc1+,Rxc1,Qxc1#', 'https://lichess.org/training/UiZO0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uj1Lz', 'Rapid', 'Frenzy_Rat', 1850, 'zjarr', 1814, 'd4,d5,Bf4,Nf6,e3,c5,c3,Qb6,Qc2,Bf5,Bd3,Bxd3,Qxd3,Qxb2,Nf3,Qxa1,Qb5+,Nbd7,O-O,Qxa2,Ne5,a6,Qxb7,Rb8,Qc6,e6', 'Nxd7,Nxd7,Bxb8', 'https://lichess.org/training/Uj1Lz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uj53z', 'Rapid', 'jujugaga', 1786, 'seanmc', 1777, 'd4,d5,Bf4,Nf6,Nf3,Bf5,e3,e6,Nbd2,Bd6,Bxd6,cxd6,c4,dxc4,Bxc4,d5,Bb3,O-O,O-O,Nc6,Ba4,Rc8,Qb3,Na5,Qb5,a6,Qb4,b5,Bb3,Nc4,Nxc4,dxc4,Bd1,Bd3,Re1,Nd5,Qa3,Qb6,Be2,b4,Qa4,Bxe2,Rxe2,c3,Ne5,Rfd8,Rc2,cxb2,Rxb2,a5,Rab1,Nc3,Qb3,Nxb1,Rxb1,Rc3', 'Qxc3,bxc3,Rxb6', 'https://lichess.org/training/uj53z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UJ6iv', 'Rapid', 'cilginsensey', 1704, 'Lidia_ios', 1706, 'e4,e5,Nf3,Nc6,Bc4,a6,Nc3,h6,d3,Nf6,b3,d6,O-O,Bg4,h3,Bh5,d4,Nxd4,g4,Nxf3+,Qxf3,Bg6,Nd5,Bxe4', 'Nxf6+,Qxf6,Qxe4', 'https://lichess.org/training/UJ6iv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UJ9D5', 'Classical', 'pilor77', 1992, 'chessblackbelt', 1832, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bb6,Nf5,Qf6,Nc3,Nge7,Bxb6,axb6,Nxe7,Qxe7,Qg4,Qf6,Nd5,Qxb2,Rd1,O-O,c3,Kh8,Bd3,Ne5,Qh4,Nxd3+,Rxd3,Rxa2,O-O,Ra1,Qe7,Kg8', 'Nf6+,gxf6,Rg3+,Kh8,Qxf8#', 'https://lichess.org/training/UJ9D5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJ9QF', 'Blitz', 'Samy248', 1900, 'iqq1', 1885, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bd3,Ng6,O-O,Qb6,Qc2,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Be3,Qxe5,Nd2,Bd7,Rfe1,Qd6,g3,Be7,Bf4,e5,Bxg6,exf4,Bd3,fxg3,fxg3,O-O,Bxh7+,Kh8,Re5,Bf6,Rh5,Bg4', 'Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/uJ9QF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UJADE', 'Classical', 'mehrdadar1', 2167, 'FM tirumpu', 2270, 'e4,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Nf3,f6,Nc3,c6,Bc4,Kc7,Be3,b5,Bb3,Na6,O-O-O,Bc5,Bxc5,Nxc5,Rd2,Ne7,Rhd1,a5,a3,b4,Na4,Nxe4,Re2,Nd6,Nc5,Nb7,Ne6+,Bxe6,Bxe6,Nc5,Bh3,Rhd8,Red2,Rxd2,Nxd2,bxa3,bxa3,Rd8,Nc4,Rxd1+,Kxd1,a4,g3,Nd5,Bg2,Nb6,Na5,e4,Kd2,Kd6,f3,f5,fxe4,fxe4,Ke3,Nd5+,Kd4,Nf6', 'Nc4+,Kc7,Kxc5', 'https://lichess.org/training/UJADE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UJAfr', 'Rapid', 'kubiks', 2119, 'medenjak', 2115, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Nc6,Bf4,Bg4,f3,Bh5,Ne2,e6,O-O,Bd6,Bxd6,Qxd6,Ng3,Bg6,Re1,Bxd3,Qxd3,O-O-O,Nd2,h5,Nb3,h4,Ne2,g5,Nc5,g4,f4,Rh5,b4,b6', 'Qa6+,Kc7,Qb7#', 'https://lichess.org/training/UJAfr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujAlT', 'Rapid', 'everytimeidom', 1864, 'AndreRB', 1846, 'g4,d5,Bg2,Bxg4,c4,Nf6,Qa4+,c6,cxd5,Bd7,dxc6,Bxc6,Bxc6+,Nxc6,Qb3,b6,Nf3,e6,d3,Bb4+,Bd2,Bxd2+,Nbxd2,Nd4,Qa4+,Qd7,Qxd4,Qxd4,Nxd4,O-O,Ne4,Nxe4,dxe4,Rac8,O-O,e5,Nf5,Rc2,Rab1,Rxe2,Rfe1,Rd2,Re3,g6,Nh6+,Kg7,Ng4,f6,h4,h5,Nh2,Rc8,Nf3,Rd7,Kg2,Rc2,Rc3,Re2,Re3,Rxe3,fxe3,Rc7,b3,Rc2+,Kg3,Rxa2,b4,a5,bxa5,bxa5,Rb7+,Kf8,Ra7,Ra3,Kf2,a4,Nd2,Ra2,Ke1,a3,Nc4,Ra1+,Kd2,a2,Na3', 'Rd1+,Kxd1,a1=Q+', 'https://lichess.org/training/ujAlT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujaPJ', 'Rapid', 'Rateb1000', 1955, 'ChesapeakReaper', 1886, 'e4,c5,Nf3,d6,Bc4,e6,O-O,Nf6,d3,Be7,Nc3,O-O,a3,d5,exd5,Nxd5,Nxd5,exd5,Bb3,Re8,h3,Nc6,c3,Be6,Bc2,d4,Nh2,Bd6,Ng4,Qc7,f3,h5,Nf2,g6,Ne4,Bh2+,Kh1,Be5,f4,Bg7,Nxc5,b6,Nxe6,Rxe6,cxd4,Nxd4,Bb3,Re7,Bd5,Rae8,Bf3,Nxf3,Qxf3,Re2,Rb1,Qc2,Ra1,Bxb2,Bxb2,Qxb2,Rg1,a5,f5,R8e3,Qa8+,Kg7,fxg6', 'Rxh3+,gxh3,Rh2#', 'https://lichess.org/training/ujaPJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UjaXY', 'Classical', 'Silberbauer', 1983, 'Ahmadmarz', 1914, 'c4,Nf6,Nc3,e6,d4,d5,Bg5,c6,e4,dxe4,Nxe4,Be7,Ng3,Qa5+,Bd2,Bb4,Nf3,O-O,Bd3,c5,dxc5,Qxc5,O-O,Nc6,Rc1,Rd8,Bb1,Bxd2,Nxd2,Qb4,Rc2,b6,a3,Qa5,Rc3,Bb7,Qc1,Qg5,Nf3,Qxc1,Rfxc1,Nd4,Nxd4,Rxd4,c5,bxc5,Rxc5,Rad8,Bc2,Ne4,Rc7,Nxg3,hxg3,R4d7,Rc3,Rd2,b4,g6,Ba4,Ra2,R1c2,Rd1+,Kh2,Raa1,g4,Rg1,f3,Kg7,Kg3,Bd5,Rd2,h5,gxh5,gxh5,Bb5,Rh1,Bd3,Kf6,Be4,Bxe4,fxe4,Ke5,Kf3,Rhf1+,Ke3,Rae1+,Kd3,Rxe4,Rc5+,Kf4,Rxh5,Re3+,Kc4,Rxa3', 'Rd4+,Ke3,Rh3+', 'https://lichess.org/training/UjaXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJBdh', 'Blitz', 'FM sewin16', 2448, 'Fouad_abdennabi', 2499, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nd2,Qc7,a4,Nc6,Nc4,Nf6,Be3,Nxe4,Nxc6,bxc6,f3,Nf6,Bb6,Qb8,a5,d5,Nd2,Nd7,Be3,Qxb2,Bd3,Bc5,Bxc5,Nxc5,O-O,Qd4+,Kh1,Nxd3,cxd3,O-O,Nb3,Qb4,d4,f6,Nc5,e5,Ra4,Qb5,Qc1,Bf5,Rf2,Rfe8', 'Rb2,Qxb2,Qxb2', 'https://lichess.org/training/uJBdh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UJCN0', 'Rapid', 'mehmeterkan', 1604, 'ssosnicki88', 1732, 'e4,e5,c3,c5,Nf3,Nc6,Be2,b6,d4,exd4,cxd4,cxd4,Nxd4,Qf6,Be3,Bb7,Nc3,Bb4,Qb3', 'Nxd4,Bxd4,Qxd4', 'https://lichess.org/training/UJCN0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujdIb', 'Blitz', 'Pachicho', 2015, 'frankieboyle', 2032, 'b3,b6,Bb2,Bb7,c4,f5,Nf3,e6,d4,Nf6,e3,d6,Be2,g6,O-O,Bg7,Nc3,O-O,Rc1,Nbd7,Qc2,Qe7,Rfe1,Rae8,Bd3,e5,Nb5,e4,Nxc7,Rc8,Nb5,exd3,Qxd3,a6,Nc3,Ne4,d5,Ndc5,Qc2,Nxc3,Bxc3,Bxc3,Qxc3,a5,Nd4,Rce8,a3,Ne4,Qc2,Qe5,Ne6,Rf6', 'f4,Qc3,Qxc3,Nxc3,Rxc3', 'https://lichess.org/training/ujdIb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJeKD', 'Rapid', 'ruzic00', 1668, 'beltaief_Omar10', 1638, 'e4,d5,e5,d4,d3,c5,Nf3,Nc6,Na3,Bg4,Qe2,Bxf3,gxf3,g6,f4,Bg7,Bg2,e6,Nb5,Bf8,Be4', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/uJeKD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJFph', 'Bullet', 'Jardshock20', 1636, 'NightsHeron', 1638, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,d5,Bb5,Nd7,Bxc6,bxc6,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,c5,dxc5,Ba6,c6,Nc5,Nb3,Nd3+,Kd2,Nxf2,Qc2,Nxh1,Rxh1,O-O,Nbd4,Qe7,Re1,Qb4+,Kc1,Rab8,e6,fxe6,Rxe6,Bc8,Ng5,g6,Rxg6+,Kh8', 'Rg8+,Rxg8,Qxh7#', 'https://lichess.org/training/uJFph');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UJfRb', 'Rapid', 'DimitryRep', 1646, 'wojand', 1676, 'e4,e5,Nf3,Nc6,c3,d6,d4,a6,dxe5,Be7,exd6,Bxd6,Be2,Nf6,O-O,O-O,Bc4,Nxe4,Re1,Bg4,Rxe4', 'Bxh2+,Kxh2,Qxd1', 'https://lichess.org/training/UJfRb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UjGlv', 'Rapid', 'sverma', 1673, 'ahmetkadri', 1651, 'd4,e5,dxe5,Qe7,e3,Qxe5,Bd3,Nc6,Nf3,Qf6,Nc3,Bb4,O-O,Ne5,Nd5,Nxf3+,gxf3', 'Qg5+,Kh1,Qxd5', 'https://lichess.org/training/UjGlv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujHRA', 'Classical', 'Nomar82', 1642, 'ppmlll', 1663, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bg4,O-O,a6,Bxc6+,bxc6,h3,Bh5,g4,Bg6,d4,exd4,Qxd4,c5,Qa4+,Qd7,Qxd7+,Kxd7,Bf4,f6,Rad1,Kc6,a4,Rb8,b3,h5,g5,Rb4,Rfe1,Ne7,gxf6,gxf6,Nh4,Bh7,Bd2,Rd4,Be3,Rxd1,Rxd1,Ng6,Nxg6,Bxg6,f3,Bh6,Bxh6,Rxh6,Nd5,Bf7,Ne7+,Kd7,Nf5,Rg6+,Kh2,Be6,Nh4,Rg8,f4,c4,b4,Rb8,c3,c5,bxc5,Rb2+,Ng2,Bf7,Rxd6+,Ke7,Rxa6,Rc2,c6,Kd6,Rb6,Ra2,e5+,fxe5,fxe5+,Kc7,Ra6,Bd5,Ra7+,Kxc6,Rg7,Bxg2,Rxg2,Rxa4,Rg5,Kd5,Rxh5,Ra3,Rg5,Rxc3,h4,Rc2+,Kh3,Rf2,h5,c3,Rg3,c2,Rc3,Kxe5,Kg3,Rd2,h6', 'Rd3+,Rxd3,c1=Q', 'https://lichess.org/training/ujHRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJi6i', 'Classical', 'Levchenko_Vitaliy', 1823, 'zeljko54', 1844, 'e4,e5,Nf3,d6,Nc3,Nf6,Bc4,Be7,d3,O-O,h3,Nc6,Be3,a6,a3,Rb8,Nd5,Bd7,Nxf6+,Bxf6,c3,Na5,Ba2,b6,Qe2,Nb7,d4,exd4,cxd4,a5,O-O,Re8,Nd2,c5,Qc4,b5,Qxf7+,Kh8,dxc5,Nxc5,Bxc5,dxc5,Rab1,Re7,Qd5,Qc8,f4,Be6,Qd6,Bd4+,Kh1,Bxh3,Qxe7,Qg4,Qg5', 'Bxg2+,Kh2,Qh3#', 'https://lichess.org/training/uJi6i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJixT', 'Rapid', 'Bardissaire', 1716, 'riki2', 1759, 'e4,e6,d4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,h6,Bd3,Nf6,Be3,a6,Qe2,b5,h3,Bb7,O-O,Bd6,a4,b4,Nd1,a5,c3,Nd5,Bb5+,Bc6,c4,Nxe3,Bxc6+,Nxc6,Qxe3,O-O,c5,Be7,b3,Bf6,Nb2,Nxd4,Nxd4,Bxd4,Qe2,Bxc5,Rfd1,Qf6,Nc4,Rfd8,Ra2,Rxd1+,Qxd1,Bb6,Nxb6,cxb6,Re2,Rd8,Rd2,Rxd2,Qxd2,Qa1+,Kh2,Qe5+,g3,Qd5,Qe3,b5,axb5,Qxb5,h4,a4,bxa4,Qxa4,g4,b3,g5,h5,Kh3,b2,Qd3,Qb4,Qd8+,Kh7,g6+,Kh6', 'Qg5#', 'https://lichess.org/training/uJixT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJJDK', 'Rapid', 'jmlebelge', 2156, 'Naringe', 2273, 'e4,c6,d3,e5,Nf3,Nf6,Nbd2,d6,a4,Nbd7,g3,Be7,Bg2,O-O,O-O,d5,b3,Re8,Bb2,Qc7,Kh1,b6,Nh4,Bb7,Nf5,Bf8,f4,dxe4,Nxe4,Nxe4,Bxe4,c5,Qf3,Bxe4,dxe4,c4,Rad1,f6,Ne3,exf4,gxf4,cxb3,cxb3,Nc5,Nd5,Qf7,Rde1,Rad8,Rg1,Nxe4,Ne3,Nd2,Qg2,Nxb3,Nf5,Rxe1', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/uJJDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJJmS', 'Rapid', 'Domino666Octavio', 1862, 'twelvejuly', 1832, 'c4,e5,Nc3,Nf6,Nf3,Bc5,a3,Nc6,b4,Bd4,b5,Bxc3,dxc3,e4,bxc6,exf3,cxd7+,Qxd7,Qxd7+,Bxd7,exf3,O-O-O,Be3,Rhe8,Be2,Be6,O-O,Nd7,Bxa7,b6,c5,Kb7,cxb6,cxb6,Bxb6,Kxb6,a4,Ra8,a5+,Rxa5', 'Rfb1+,Kc7,Rxa5', 'https://lichess.org/training/uJJmS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UjJRA', 'Rapid', 'Esmailadrees2005', 1758, 'terloni', 1941, 'd4,g6,Bf4,Bg7,Nc3,b6,e4,Bb7,Nf3,d6,Bd3,Nd7,e5,dxe5,dxe5,Nc5,Nb5,Nxd3+,cxd3,Bxf3,Qxf3,a6,Nxc7+,Qxc7,Qxa8+,Qd8,Qxd8+,Kxd8,O-O,e6,Rfc1,Ne7,d4,Nd5,Bg5+,Kd7,a4,f6,exf6,Bxf6,Bd2,Bxd4,Rab1,Rf8,Be3', 'Nxe3,fxe3,Bxe3+,Kh1,Bxc1', 'https://lichess.org/training/UjJRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UjKpV', 'Blitz', 'Jouni52', 1714, 'HydraE', 1730, 'd4,Nf6,c4,e6,Nc3,d5,e3,Bb4,Qc2,O-O,a3,Bxc3+,bxc3,b6,cxd5,exd5,Nf3,Bb7,Bd3,Nbd7,O-O,c5,c4,dxc4,Bxc4,Bxf3,gxf3,cxd4,exd4,Rc8,Qe2,Re8,Be3,Nh5,Rad1,Nf4,Qa2', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/UjKpV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJLDv', 'Rapid', 'Alfedrem', 2049, 'Vi_se', 1960, 'd4,d6,Nf3,Nf6,c4,Nbd7,Nc3,e5,e4,c6,h3,Be7,Be3,Qc7,Be2,h6,O-O,Nf8,d5,g5,Qd2,Ng6,Kh2,Nf4,g4,Rg8,Rg1,h5,gxh5,N6xh5,Bf1,Qd7,dxc6,bxc6,Rg4,Qc7,Rg1,Be6,Nh4,Qd7,Qd1,Bxh3,b4,Kf8,Ng2,Rh8,Nxf4,Nxf4,Kg3,Bg2,Bxg2', 'Rh3+,Bxh3,Qxh3#', 'https://lichess.org/training/uJLDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJLJ0', 'Blitz', 'mehmetuca', 1875, 'chessjosep', 2014, 'e4,c6,d3,d5,f3,e5,Be3,d4,Bf2,c5,Nd2,Nc6,Qe2,b5,g4,Nge7,h4,Ba6,h5,c4,dxc4,bxc4,b3,Qa5,Kd1,d3,cxd3,cxd3,Qe3,Nd4,f4,Rc8,fxe5,Qc3,Qxd4', 'Qc2+,Ke1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/uJLJ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujndc', 'Classical', 'BERNARD-KWT', 1639, 'sethcarpenter', 1628, 'e4,c5,Nf3,Nc6,Nc3,d6,Bc4,a6,Ng5,e6,a3,Nf6,d3,h6,Nxf7,Kxf7,Qh5+,Ke7,Qf3,Nd4,Qd1,b5,Ba2,Bb7,Be3,Qa5,Bd2,Qc7,O-O,Re8,a4,b4,Ne2,Nxe2+,Qxe2,a5,f4,Qc6,c3,Kd7,cxb4,axb4,Rac1,Be7,d4,Qxa4,Bc4,Nxe4', 'Bb5+,Qxb5,Qxb5+', 'https://lichess.org/training/ujndc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJNKL', 'Blitz', 'BeatTheDragon', 1781, 'Kouma', 1804, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,c3,b5,Bb3,O-O,Re1,d5,exd5,e4,dxc6,exf3,Qxf3,Bg4,Qg3,Bd6,Qh4,Re8,f3,Bf5,d4,Bxh2+,Kxh2,Ng4+,Qxg4,Bxg4,Rxe8+,Qxe8,fxg4,Qe1,Bf4,Re8,Bg3,Qc1,Bd5,Qxb2,Nd2,Qxa1,Ne4,Rxe4,Bxe4,Qxc3,Be5,Qe3,Bf3,f6,Bxc7,Qxd4,Bg3,Qc4,c7,a5,Bb7,b4,Bd5+,Qxd5,c8=Q+,Kf7,Qc7+,Kg6,Qb6,Qxa2,Qe3,Qc2,Qf3,a4,Qb7,b3,Qb4,a3,Qxa3,b2,Qe3,b1=Q', 'Qe8+,Kh6,Qh5#', 'https://lichess.org/training/uJNKL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UJNLb', 'Blitz', 'mrSreten', 1949, 'chovoss', 1997, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,a3,cxd4,cxd4,Nh6,b4,Nf5,Bb2,Na5,Bd3,Nc4,Bc1,Nxd4,Bxc4,Nxf3+,Qxf3,dxc4,O-O,Bd7,Nc3,Bc6,Qg3,a6,Be3,Qc7,Rad1,g6,Bg5,Be7,Bh6,Bf8,Bxf8,Kxf8,Rd6,Kg7,Qf4,Rhe8,Qf6+,Kg8,Rfd1,Qe7,Qf4,Rad8,Qxc4,Rxd6,exd6,Qd7,a4,b5,axb5,Bxb5,Qf4,Bc6,b5,axb5,Qe5,Rd8,Ne4,Bxe4,Qxe4,Qa7,Qh4,Qb6,d7,b4,Qe7,Kg7,h4,b3,h5,b2,Rb1,Qc7,Rxb2,Qxd7,Qg5,Qd5,h6+,Kg8,Qf6,Qd4', 'Qxd4,Rxd4,Rb8+,Rd8,Rxd8#', 'https://lichess.org/training/UJNLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UjOej', 'Rapid', 'Hamiklar', 1722, 'SergPav', 1718, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,f4,b5,Be3,Bb7,g4,Be7,Bg2,Bh4+,Kd2,b4,Na4,Qa5,b3,Nf6,Qf3,Nxd4,Bxd4,Bxe4,Qe3,Bxg2,Rhg1,Bd5,Rad1,Ne4+,Kc1,Bf2,Qd3,Bxg1,Rxg1,O-O,f5,e5,Bxe5,d6,Bd4,Ng5,f6,Nf3,fxg7,Rfc8,Rg3,Nxd4,Qxd4,Qc7,Qd2,Be4,Rd3,Bxd3,Qxd3,Qc6,c3,bxc3,Nxc3,Rc7,Kd2,Rac8,Nd5,Qc1+,Ke2,Re8+,Kf3,Qh1+,Kg3,Qg1+,Kf3,Rc1,Nf6+,Kxg7,Nxe8+,Kh6,Qd2+,Kg6,Qd3+,Kh6,Qd2+,Kg6', 'Qxd6+,f6,Qxf6#', 'https://lichess.org/training/UjOej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujoLg', 'Rapid', 'mars23', 1855, 'Ruven', 1818, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,O-O,h3,d6,Bd3,e5,d5,c6,Nge2,a6,a4,cxd5,cxd5,Bd7,Be3,h5,Bg5,Qc7,Qd2,Kh7,O-O,Ng8,f4,exf4,Bxf4,a5,Rac1,Qd8,Bxd6', 'Qb6+,Kh1,Qxd6', 'https://lichess.org/training/ujoLg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UJOli', 'Rapid', 'khaled_gaber', 1622, 'Torgnole17', 1551, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,Nc3,Bg4,O-O,Bxf3,Qxf3,Nf6,Nd5,O-O,Bg5,Nd4,Qg3,Ne2+,Kh1,Nxg3+,fxg3,c6,Nxf6+,gxf6,Bxf6,Qb6,Rf5,Rfe8,Bh4,Kf8', 'Rxf7+,Kg8,Rxb7+,d5,Rxb6', 'https://lichess.org/training/UJOli');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UjOoP', 'Blitz', 'Ssehc16', 1627, 'Pdpgrgn', 1867, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Nxe5,Nxe5,d4,Nc6,d5,Nb4,a3,Na6,e5,Qe7,Be2,Qxe5,O-O,Be7,f4,Qd4+,Kh1,Nxd5,Qxd4,Nxc3,Qxc3,Bf6,Qb3,O-O,Bd3,Nc5,Qc4,b6,b4,Ba6,b5,Bb7,Be3,Nxd3,Qxd3,Bxa1,Rxa1,c6,f5,cxb5,f6,g6,Qd2,Kh8,Rf1,Rae8,Bxb6,axb6,Qh6,Rg8,h3,Re2,Rf4,Rxg2', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/UjOoP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujR6E', 'Blitz', 'SmileAgain', 1742, 'akovner', 1614, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,c3,Bg4,f3,Nh5,cxd4,Qxg5,fxg4,Qh4+,Ke2,Nf4+,Kf1,O-O-O,Qf3,Bd6,d3,Rhe8,dxe5,Bxe5,Nc3,Bxc3,Bxf4', 'Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/ujR6E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ujsn5', 'Blitz', 'yeetao', 1568, 'tigranakert', 1551, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bc4,Qf6,Qf3,d6,O-O,Be6,Bxe6,fxe6,Nc3,Ne7,Na4,Bb6,Nxb6,cxb6,Qd3,Rd8,Qa6,Rd7,Rb1,O-O,c4,d5,exd5,exd5,cxd5,Rxd5,Qxa7', 'Qxf2+,Rxf2,Rd1+,Rf1,Rdxf1#', 'https://lichess.org/training/Ujsn5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujSUk', 'Rapid', 'Lanoc', 1985, 'newlookbox', 1967, 'e4,g6,Nc3,Bg7,Nf3,e6,d4,Ne7,Bd3,d5,e5,O-O,O-O,Nd7,Ng5,c5,Qg4,cxd4,Qh3,h6,Nxe6,fxe6,Qxe6+,Kh7,Nxd5,Nxe5,Qxe7,Qxd5,Bxh6,Rf7,Qg5,Bxh6', 'Bxg6+,Kg7,Bxf7+,Bxg5,Bxd5', 'https://lichess.org/training/ujSUk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UJwyX', 'Rapid', 'Perovius', 1661, 'Pupi0512', 1647, 'e4,e5,Nf3,Nf6,Bc4,Bc5,Nxe5,O-O,Nc3,Nc6,Nf3,Re8,d3,d5,Bb3,dxe4,Be3,exd3,Qxd3,Qxd3,cxd3,Bxe3,fxe3,Rxe3+,Kd2,Re7,Rhe1,Bg4,Ng5,Rd8,Rxe7,Nxe7,Nxf7,Rf8,Nd6+,Kh8,Nxb7,Nh5,Nc5,Rf2+,Ke3,Rxg2,Rf1', 'Nf5+,Rxf5,Bxf5', 'https://lichess.org/training/UJwyX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujX45', 'Blitz', 'JustDummyTheory', 2007, 'SantaFrost', 2051, 'd4,e6,c4,b6,Nc3,Bb7,e4,Bb4,d5,Nf6,Qc2,Qe7,Bd3,exd5,cxd5,Nxd5,Ne2,Nxc3,Nxc3,Bxc3+,bxc3,d5,O-O,dxe4,Re1,f5,a4,O-O,Ba3,c5,a5,Qf6,Bc4+,Kh8,Rad1,Nc6,Rd7,Bc8,Rd2,Ne5,Bb5,a6,Bf1,b5,Red1,c4,Rd6,Qf7,R6d5,Re8,Rd8,Nd3,Rxe8+,Qxe8,Bxd3,cxd3,Qd2,Be6,Re1,Bc4,Bb4,Qe6,Bc5,h6,Bd4,Qd5', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/ujX45');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujxfj', 'Rapid', 'alireza-azarshahr', 1621, 'torstenaan', 1614, 'd4,d5,Nf3,Bf5,Nbd2,e6,c4,c6,Qa4,a5,cxd5,exd5,e3,b5,Qd1,Nf6,b3,Bd6,Bb2,O-O,Rc1,Re8,Be2,Ne4,Nxe4,Rxe4,Bd3,Qf6,Bxe4,dxe4,Ne5,Ra7,Nxc6', 'Nxc6,Rxc6,Bb4+', 'https://lichess.org/training/ujxfj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujxGK', 'Rapid', 'Robyarchitetto', 1759, 'cocinda', 1640, 'c4,d6,g3,e5,e4,Be7,Bg2,h5,Ne2,Bg4,Nbc3,c6,O-O,h4,f3,hxg3,Nxg3,Bh3,Bxh3,Rxh3,Kg2,Rh7,d4,Qd7,Rh1,Qh3+,Kg1,Nd7,dxe5,Nxe5,Bf4,Nxc4,Qb3,b5,Nxb5,cxb5,Qxb5+,Kd8,Qxc4,g5,Bxd6,Bxd6,Rd1,Kd7,Rxd6+,Kxd6,Qd5+,Ke7,Qxa8,Qd7,Nf5+,Kf6,Qd5', 'Qxd5,exd5,Kxf5', 'https://lichess.org/training/ujxGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJxje', 'Rapid', 'azola', 1690, 'carbone144', 1840, 'g3,e5,e4,Nf6,Bg2,b6,Nc3,Bb7,d4,exd4,Nd5,Nxd5,exd5,Bb4+,Bd2,Bxd2+,Qxd2,c5,Qe2+,Qe7', 'Qxe7+,Kxe7,d6+,Kxd6,Bxb7', 'https://lichess.org/training/uJxje');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UjyKz', 'Rapid', 'filini_E', 1627, 'jimpoul7', 1608, 'd4,Nf6,d5,e6,dxe6,fxe6,Bg5,Be7,e3,h6,Bxf6,Bxf6,Qh5+,Ke7,Nc3,d5,h3,Qe8,Qg4,Nc6,Qg3,Be5,Qh4+,Bf6,Qg4,Kf7,Nb5,Qe7,Bd3,Rd8,Qf4,e5,Qf3,e4,Qh5+,Kf8,Be2,Bd7,O-O-O,Bg5,Nxc7,Bg4,Qxg4,Qxc7,Qf5+,Qf7,Qg4,Qxf2', 'Rf1,Qxf1+,Bxf1', 'https://lichess.org/training/UjyKz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ujyns', 'Rapid', 'salfina', 1813, 'SC84', 1826, 'e4,Nf6,Nc3,e5,Bc4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Nxe5,Bxb5,Nxb5,a6,Nd4,Bc5,c3,Qe7,O-O,Qxe5,Re1,Ne4,d3,Bxd4,Qa4+,b5,Qxd4,Qxd4,cxd4,O-O,dxe4,dxe4,Rxe4,Nc6,d5,Rfe8,f3,Rxe4,fxe4,Nd4,Be3', 'Nc2,Rc1,Nxe3', 'https://lichess.org/training/Ujyns');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UjyoM', 'Rapid', 'veysel88', 1652, 'bodon', 1669, 'e4,e6,Nf3,d5,exd5,exd5,h3,Bd6,Bb5+,c6,Ba4,Ne7,Nc3,Bf5,O-O,O-O,d3,Nd7,Ne2,Qc7,Ng3,Bxg3,fxg3,Qxg3,Qe1,Qd6,Bg5,Ng6,Nh4,Rfe8', 'Nxf5,Rxe1,Nxd6,Rxa1,Rxa1', 'https://lichess.org/training/UjyoM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UJzGO', 'Rapid', 'Linus23', 2040, 'waznypionek', 2000, 'd4,g6,c4,Bg7,Nf3,d6,Nc3,Bg4,e3,Nf6,h3,Bxf3,Qxf3,c6,Bd2,d5,cxd5,Nxd5,Nxd5,cxd5,Bb5+,Nc6,O-O,O-O,Ba4,a6,Bb3,e6,Rfe1,Na5,Bxa5,Qxa5,Rac1,Rac8,h4,h5,g4,hxg4,Qxg4,Rc6,Kh2,Rfc8,Rxc6,Rxc6,Rg1,Qd2,Qg3,Qxb2,h5,Rc1,Rg2,Qb1,Qb8+,Kh7,hxg6+,fxg6,Qxb7,Rh1+,Kg3,Qe4,Rh2+,Rxh2,Kxh2,Qh4+,Kg2,Qg4+,Kf1,a5,Qd7,Qh3+,Ke1,Qf5,Qc8,g5', 'Bc2,Qxc2,Qxc2+', 'https://lichess.org/training/UJzGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ujZN5', 'Rapid', 'GwenGwen', 1914, 'Konstantin0612', 1834, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,Bb6,Be2,h6,O-O,Nge7,f4,d6,Qd2,a6,Nf3,Bg4,h3,Bxf3,Bxf3,O-O,Qe2,Ng6,f5,Nge5,Nd2,Rad8,Bxb6,cxb6,Nc4,b5,Nb6,Ne7,Rad1,g6,Nd5,Nxd5,Rxd5,g5,Rfd1,Nc4,Qf2,Rfe8,b3,Na5,Qb6,Qxc3,Rxd6,Rxd6,Qxd6,Qe5,Qxh6,f6,Bh5,Rc8,Qg6+,Kh8,Qh6+,Kg8,Bg6,Qe7,Rf1,Qg7,Qxg7+,Kxg7,Kh2,Nc6,Re1,Ne5,h4,Rc2,hxg5', 'Nf3+,Kh3,Nxe1', 'https://lichess.org/training/ujZN5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uJZTB', 'Rapid', 'paperslim', 1781, 'MilosFil', 1738, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,h3,b6,e3,Bb4+,Bd2,Bxd2+,Qxd2,dxe3,Qxe3,Bb7,Be2,Nge7,O-O,Ng6,e6,O-O,exf7+,Rxf7,Nc3,Nb4,Rad1,Qf8,a3,Nc6,Nd5,Re8,Qd2,Nce5,Ng5,Rf5,Nxc7,Bxg2,Nxe8,Bxf1,Bxf1', 'Rxg5+,Qxg5,Nf3+,Kh1,Nxg5', 'https://lichess.org/training/uJZTB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UK07q', 'Classical', 'mikamad', 1663, 'Hundred420', 1643, 'd4,e6,c4,Nf6,Nc3,d5,Bg5,Be7,e3,Nbd7,Nf3,h6,Bh4,c5,cxd5,cxd4,Nxd4,exd5,Bxf6,Nxf6,Bd3,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/UK07q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uk2NW', 'Rapid', 'merame', 1886, 'starkers', 1893, 'e4,e5,Nf3,Nc6,c3,d5,exd5,Qxd5,Be2,Bg4,h3,Bh5,O-O,O-O-O,Ng5,Bxe2,Qxe2,f5,d3,Qxd3', 'Qxd3,Rxd3,Nf7,Rd7,Nxh8', 'https://lichess.org/training/Uk2NW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uk4SC', 'Rapid', 's524', 1772, 'AlexanderBThorndyke', 1803, 'd4,d5,c4,e6,Nc3,Bb4,Qa4+,Nc6,Nf3,Bd7,Bd2,Bxc3,Bxc3,Nxd4,Qd1,Nxf3+,exf3,Nf6,Bd3,dxc4,Bxc4,O-O,O-O,Re8,Qc2,e5,Rad1,Qe7,Rfe1,b5,Rxe5,Qf8,Rxe8,Rxe8,Bb3,Qe7,Bxf6', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/Uk4SC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uk4Y9', 'Rapid', 'Konahi', 1642, 'JoGoll', 1615, 'e4,e5,Nf3,d6,Bc4,g6,d3,h6,O-O,Bg7,b4,Nf6,Bb3,Be6,c4,O-O,Nc3,c6,a4,a6,Be3,Nbd7,Rb1,Ng4,Bd2,Nb6,a5,Nd7,Ba4,Qc7,b5,axb5,cxb5,Qc8,b6,Nc5,Bc2,Rxa5,d4,Nd7,d5,cxd5,exd5,Bxd5,Nxd5,Rxd5,Rc1,Qd8,Bb3,Rb5,h3,Ngf6,Be3,Nxb6,Qd2,Rxb3,Bxh6,Bxh6,Qxh6,Ne4,Rfe1,Rb4,Rxe4,Rxe4,Ng5,Qxg5,Qxg5,Kg7,Rb1,Nd5,Rxb7,Nf6,Rb6,Rd8,Qd2,Rd4,Qb2,Ne4,Rb8,Rd7,Rb7,Rd8,Rb8,Rd7,f3,Ng3,Kh2,Nf5,g4,Nh4,Qf2', 'Rd2,Qxd2,Nxf3+,Kg2,Nxd2', 'https://lichess.org/training/uk4Y9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UK9jc', 'Blitz', 'cicci6673', 1548, 'testin123', 1622, 'd4,Nf6,c4,e5,d5,Bc5,e3,c6,Nf3,cxd5,Nxe5,d6,Nd3,Bb6,cxd5,Nxd5,Bd2,Be6,e4,Nf6,Nc3,Nbd7,Be2,Nc5,O-O,Ncxe4', 'Nxe4,Nxe4,Qa4+,Qd7,Qxe4', 'https://lichess.org/training/UK9jc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UkaRL', 'Classical', 'LittleGrandMaster', 1703, 'Alexandr_Markov', 1716, 'e4,Nf6,e5,Nd5,d4,e6,c4,Nb6,Nf3,c5,a3,cxd4,Nxd4,d5,b3,dxc4,bxc4,Bc5,Be3,O-O,Nc3,Bxd4,Bxd4,Nc6,Bxb6,Qxb6,Be2,Nxe5,O-O,Rd8,Qc2,Bd7,Na4,Bxa4,Qxa4,Rac8,Qc2,Rc7,Qe4,Ng6,Bh5,Qc5,Bxg6,hxg6,Qh4,Rd4,Qh3,Qxc4,Rfd1,Rxd1+,Rxd1,Qa4', 'Rd8+,Qe8,Rxe8#', 'https://lichess.org/training/UkaRL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uKAXg', 'Rapid', 'ALKUDIES', 1609, 'Floophead_III', 1691, 'e4,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,d4,e6,Bc4,Nc6,Bxd5,exd5,Nf3,b6,cxb6,axb6,Bg5,Be7,Bxe7,Qxe7,Nc3,Qb4,Qb3', 'Qxb3,axb3,Rxa1+', 'https://lichess.org/training/uKAXg');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 34;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet35 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKbTi', 'Rapid', 'Koeaoh', 1640, 'palusi1960', 1679, 'd4,d5,Bf4,Nf6,Nf3,Bg4,e3,e6,Nbd2,Bd6,Bxd6,Qxd6,h3,Bxf3,Nxf3,Qb4+,c3,Qxb2,Qc1,Qb6,Rb1,Qc6', 'Bb5,Qxb5,Rxb5', 'https://lichess.org/training/UKbTi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uKBY5', 'Classical', 'MChessmOn', 1791, 'ht_booloo', 1978, 'c4,c5,Nf3,Nc6,Nc3,g6,e3,Bg7,d4,cxd4,exd4,d6,d5,Ne5,Nxe5,Bxe5,Be2,Bd7,Ne4,Bg7,Rb1,Rc8,b3,Nf6,Nxf6+,Bxf6,Bb2,Qa5+,Qd2,Qxa2,Bxf6', 'Qxb1+,Qd1,Qxd1+', 'https://lichess.org/training/uKBY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ukckp', 'Blitz', 'SerjPetrosian', 1929, 'oakmac', 1896, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be7,O-O,O-O,Re1,Bg4,Bf4,Nc6,c3,Qd7,Nbd2,Bd6,Bg3,Bxg3,hxg3,Rfe8,Qc2,h6,b3,Ne7,Ne5,Qc8,Nxg4,Qxg4,Nf3,Ng6,Bf5,Qh5,c4,Ne7,Bd3,Ng4,Re2,dxc4,bxc4,Nc6,Rae1,Nxd4', 'Rxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/ukckp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKcYM', 'Blitz', 'edy1967', 2107, 'Barajasgto', 1941, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,h3,Nf6,Nf3,O-O,O-O,Nc6,c3,Re8,Be3,Ne4,Nbd2,f5,Re1,f4,Qb3,fxe3,Nxe4,exf2+,Nxf2,Ne7,Ng5,g6,Re2,Kg7,Rae1,Rf8,Ng4,Ng8,Kh1,Qxg5,Ne5,Nf6,c4,Nh5,Re3,Rf2,Bf1,Be6,cxd5,Raf8,Nf3,Bxh3,Nxg5', 'Rxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/UKcYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uKDHP', 'Rapid', 'panda-monium', 2112, 'shayanaghaie', 2145, 'e4,Nf6,Nc3,d5,e5,Nfd7,e6,fxe6,d4,c5,Bd3,g6,h4,cxd4,h5,dxc3,hxg6,Nf6,gxh7,Qa5,Bg6+,Kd8,bxc3,Qxc3+,Bd2,Qe5+,Ne2,Nc6,Bf4,Qb2,c4,Qb4+,Kf1,Qxc4,Rh3,Bg7,Rc3,Qa6,Bd3,Qa5,Bd2,Qc7,Bf4,e5,Bh2,Nxh7,Bxh7,Rxh7', 'Qxd5+,Qd6,Qg8+,Kc7,Qxh7', 'https://lichess.org/training/uKDHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ukdva', 'Blitz', 'IM walaasarwat', 2464, 'Hiscapator', 2323, 'd4,Nf6,Nf3,d5,g3,e6,Bg2,Be7,c4,O-O,O-O,dxc4,Qc2,a6,Qxc4,b5,Qc2,Bb7,Nc3,Nbd7,Bg5,Rc8,Rfd1,c5,dxc5,Rxc5,a3,Nd5,Bxe7,Qxe7,Qd2,Nxc3,bxc3,Bxf3,Bxf3,Ne5,Be4,f5,Bd3,Rfc8,Rdc1,Rd5,Qe3,Qd6,a4,Nxd3,exd3,Rxd3,Qe1,Qc6,axb5,axb5,Rab1,Kf7,Qe5,Rd5,Qe3,Rc5,Qe1,e5,Qe2,g6,h4,e4,h5,g5,Qe3,h6,Ra1,Rc7,Qd4,Qf6,Qd2,f4,gxf4,Qxf4,Qd8,Qg4+,Kf1,Qh3+,Kg1,Qxh5,Ra8,Qg4+,Kf1,Qh3+,Kg1,Kg6,Qe8+,Kf6', 'Ra6+,R5c6,Rxc6+,Rxc6,Qxc6+', 'https://lichess.org/training/Ukdva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uKdvg', 'Classical', 'Milagialy', 1761, 'gr-1975', 1703, 'd4,d5,e3,a6,Nf3,e6,Be2,Nc6,c3,f6,b3,Nge7,Bb2,e5,dxe5,fxe5,Nbd2,e4,Nd4,Nf5,Nxc6,bxc6,c4,Be6,Bh5+,Kd7,Bg4,Kd6,Bxf5,Bxf5,Qh5,g6,Qd1,Rg8,Ba3+,Kd7,c5,h5,b4,Qg5,g3,Bg7,Rb1,Rh8,h4,Qg4,Qxg4,Bxg4,Nb3,Bc3+,Kf1,Bf3,Rh2,Rhe8,Nc1,d4,exd4,Bxd4,Ne2,Be5,Rd1+,Ke7,Rb1,Red8,Bb2,Kf6,Bxe5+,Kxe5,Nf4,Kf6,Ke1,Re8,Kd2,Rad8+,Kc3,e3,fxe3,Rxe3+,Kb2,Be4,Rf1,a5', 'Nd5+,Kg7,Nxe3', 'https://lichess.org/training/uKdvg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ukEYd', 'Rapid', 'mehdi_1400', 2052, 'rsrle', 1973, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,e5,O-O,exf6,Bxf6,Qd1,Re8+,Be2,d5,O-O,Qe7,Bd3,c5,Qh5,g6,Qxd5,Be6,Qf3,h5,h3,c4,Be2,Rad8,c3,Bd5,Qe3,Qc7,Qxa7,Rxe2,Be3,Rxb2,Na3,Bxc3,Rab1,Rxb1,Nxb1,Be5,Bb6,Qc6,Bxd8,Bxg2,Qb6,Qe4,Qe3,Qd5,Re1,Bh1,f3', 'Bd4,Kxh1,Bxe3', 'https://lichess.org/training/ukEYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uKgr9', 'Rapid', 'LeonardoSilva', 2049, 'rmmh', 2143, 'f4,d5,Nf3,e6,e3,f5,Be2,Nf6,O-O,Bd6,b3,O-O,Bb2,Nbd7,c4,c6,Nd4,Qe7,Nc3,a6,Rc1,Ne4,Nxe4,dxe4,d3,c5,Nc2,exd3,Qxd3,Nf6,Bf3,Rb8,Rcd1,Bc7,Be5,Rd8,Qc3,Bxe5,Rxd8+,Qxd8,Qxe5,Bd7,Rd1,Qc8,b4,b6,a3,Ba4,Rd2,Bxc2,Rxc2,cxb4,axb4,Qe8,Rd2,Rc8,h3,Rxc4,Be2,Rxb4,Qc7,Nd5,Qe5,Re4,Qd6,Rxe3,Bxa6,h6,Bc4,Kh7,Bxd5,exd5,Qxb6,Re1+,Kh2,Qe4,Qf2,Re3,Kg1,d4,Kf1,d3,Kg1,Re1+,Kh2,Re2,Rxe2,Qxe2,Qc5,Kg6,Qc6+,Kf7,Qd7+,Kf6,Qd6+,Kf7,Qd7+,Kg8,Qxf5,d2,Qc8+,Kf7,Qf5+,Ke7,Qc5+,Kd7,Qd5+,Ke7,Qc5+,Kf6,Qd6+,Kf5,Qf8+', 'Kg6,Qd6+,Kh7', 'https://lichess.org/training/uKgr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UkhvM', 'Blitz', 'FM UnknownM8', 2586, 'IM AttackingBeast', 2694, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,cxd5,exd5,Bg5,c6,Rc1,Nbd7,e3,O-O,Bd3,Re8,O-O,Nf8,Ne5,h6,Bh4,Be7,a3,a5,Na4,N6d7,Bg3,Nxe5,Bxe5,Bd6,Bg3,Bxg3,hxg3,Qg5,Qf3,Ng6,Nc5', 'Bg4,Bxg6,Bxf3', 'https://lichess.org/training/UkhvM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKjuG', 'Rapid', 'omaration', 1663, 'itsDarkAngel', 1638, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Bd7,Bg5,e6,Bd3,Be7,Bxf6,Bxf6,O-O,Bxd4,Nb5,Bxb5,Bxb5+,Nc6,Bxc6+,bxc6,Qxd4,O-O,h4,d5,e5,Qb6,Qc3,Rfc8,b3,Rab8,h5,h6,g4,Qb4,Qg3,Qe4,g5,hxg5,Qxg5,Rb4,f3,Qd4+,Kg2,Kf8,h6,gxh6,Qxh6+,Ke7,Qf6+,Kf8,Rh1,Qd2+,Kf1,Ke8', 'Rh8+,Kd7,Qxf7#', 'https://lichess.org/training/UKjuG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKJXV', 'Classical', 'olgunali', 1634, 'adamjjohnson01234', 1651, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,h6,d4,exd4,O-O,Nf6,e5,d5,Bb5,Nd7,b3,a6,Bd3,Bc5,Bb2,O-O,c3,dxc3+,Kh1,cxb2,Nc3,bxa1=N,Qxa1,Bd4,Nxd4,Nxd4,Nxd5,Nb5,Rf3,Nc5,Nf6+,gxf6,Rg3+,Kh8,Qd1,Bf5,Qh5,Nxd3', 'Qxh6+,Bh7,Qg7#', 'https://lichess.org/training/UKJXV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKKiN', 'Rapid', 'TheGreatPablo', 2109, 'cadevesh', 2084, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nf6,d3,d5,Bxc6+,bxc6,Nxe5,dxe4,dxe4,Qxd1,Rxd1,O-O,Nxc6,Nxe4,Be3,Bxe3,fxe3,Bb7,Na5,Rad8,Rxd8,Rxd8,Nc3,Nxc3,bxc3,Be4,Rb1,g6,Rb4,Bxc2,Nc6,Rd1+,Kf2,a6,Nd4,Bd3,Rb8+,Kg7,Rc8,Rd2+,Kf3,Rxa2,Rxc7,a5,Ra7,a4,Ne6+,Kf6,Nc5,Bc2,Ne4+,Kg7,Ng5,Bb3,Ne4,Bd1+,Kg3,Bc2,Nd6,Bb3,c4,a3,c5,Ra1,c6,a2,c7,Rc1', 'c8=Q,Rxc8,Nxc8', 'https://lichess.org/training/UKKiN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKkMn', 'Rapid', 'arya55', 1838, 'Boobby_Silly', 1799, 'g3,g6,Bg2,Bg7,c3,c6,Qb3,Qb6,Nf3,Nf6,d4,d5,Qc2,Qc7,Bf4,Bf5', 'Qxf5,gxf5,Bxc7', 'https://lichess.org/training/UKkMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKkYo', 'Rapid', 'colin_ni', 2156, 'KaduRoger', 1975, 'd4,d6,c4,g6,Bf4,Bg7,Nc3,Nf6,Nf3,O-O,e4,Bg4,Be2,Nbd7,h3,Bxf3,Bxf3,e5,Be3,exd4,Bxd4,Re8,O-O,Ne5,Be2,Nc6,Bxf6,Qxf6,Bf3,Ne5,Be2,Qe6,Qb3,b6,Rad1,Rad8,f4,Nd7,Bg4,f5,exf5,gxf5,Bf3,Qe3+,Kh1,Nc5,Qc2,Ne4,Nd5,Ng3+,Kh2,Nxf1+,Rxf1,Qd4,Nxc7,Qxf4+,Kh1,Be5', 'Bd5+,Kh8,Rxf4', 'https://lichess.org/training/UKkYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UklI7', 'Rapid', 'TheRealEmilowich', 1740, 'SpudsAreGreat', 1729, 'e4,e6,d4,c5,d5,exd5,exd5,d6,c4,Nf6,Nf3,h6,Nc3,Be7,Bd3,O-O,O-O,Bg4,Re1,Re8,Bf4,Nh5,h3,Nxf4,hxg4,Bg5,Bc2,Rxe1+,Qxe1,Nd7,Qe4,Nf6,Qf5', 'g6,Qxf4,Bxf4', 'https://lichess.org/training/UklI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKmiQ', 'Rapid', 'avesis', 1602, 'AwanAftab', 1642, 'e4,b6,d4,Bb7,Nc3,g6,Bc4,Bg7,Nf3,e6,O-O,Ne7,d5,exd5,Nxd5,Nxd5,exd5,O-O,Bb3,d6,c4,Nd7,Bg5,Qc8,Rb1,Nc5,Bc2,a6,b4,Nd7,Re1,b5,c5,dxc5,bxc5,Nxc5,Rc1,Qd7,Be7,Na4,Bxf8,Rxf8,Bb3,Nb2,Qe2,Bxd5,Bxd5,Qxd5,Rxc7,Qxa2,h3,b4,Ra7,a5,Qb5,a4,Qxb4', 'Nd3,Qd2,Qxd2', 'https://lichess.org/training/UKmiQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uknqw', 'Blitz', 'khokhlov', 1679, 'jachym08', 1696, 'd4,Nf6,Nf3,g6,e3,Bg7,b3,O-O,Bb2,d6,Bd3,Nbd7,Nbd2,Re8,e4,e5,d5,Nc5,O-O,Rf8,b4,Nxd3,cxd3,Nh5,Nc4,b5,Na5,Bd7,d4,f5,exf5,Rxf5,dxe5,dxe5,g4,Rf4,gxh5,e4,Bxg7,exf3,Kh1,Kxg7,Rg1,Rh4,hxg6', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/uknqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uKNUE', 'Blitz', 'Den00x', 1617, 'kschessfbook', 1642, 'e4,e6,Nf3,d6,Be2,Ne7,O-O,Nd7,d4,g6,c4,Bg7,b4,h6,Nc3,O-O,a4,e5,d5,b6,b5,Nc5,a5,Bd7,axb6,axb6,Rxa8,Qxa8,Be3,f5,exf5,gxf5,Nh4,f4,Bd2,Qd8,Qc2,Nf5,Nf3,Nh4,Ne4,Bf5,Bd3,Nxf3+,gxf3,Nxe4,Bxe4,Bh3,Bh7+,Kh8,Qg6,Bxf1,Kxf1,Qa8,Qc2,Qa1+,Kg2,Qa8,Be4,Qd8,Qa4,Qg5+,Kf1,Bf6,Qa7,Bd8,Qb7,Rg8,Qc8,Qg1+,Ke2,Bh4,Qxc7,Qxf2+,Kd3,Qd4+,Kc2,Rg7', 'Qb8+,Rg8,Qxd6,Qxc4+,Kb2,Qxb5+,Bb4', 'https://lichess.org/training/uKNUE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ukOnM', 'Rapid', 'mikisdefakis', 1814, 'hamed481', 2015, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,Bf5,f3,e6,Bd3,Bxe4,Bxe4,Nf6,Bg5,Be7,Bxf6,Bxf6,Ne2,O-O,c3,Nd7,Qc2,g6,h4,Bxh4+,g3,Bf6,O-O-O,c5,dxc5,Qc7,Rh2,Bg7,Rdh1,Nf6,Nf4,Qxc5,Bxg6,hxg6,Nxg6,fxg6', 'Qxg6,Nh5,Rxh5', 'https://lichess.org/training/ukOnM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uKP9C', 'Blitz', 'loganks96', 1853, 'zyford', 1895, 'd4,d5,Bf4,Nc6,e3,Bf5,c3,Nf6,Nd2,e6,Ngf3,Bd6,Ne5,Bxe5,dxe5,Nd7,Bb5,a6,Bxc6,bxc6,O-O,g5,Bg3,h5,h3,g4,h4,Nc5,Nb3,Nxb3,axb3,Qb8,b4,Qb5,Qa4,Bd3,Rfd1', 'Qxa4,Rxa4,Bc2,Rda1,Bxa4', 'https://lichess.org/training/uKP9C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ukpFb', 'Blitz', 'schoentalegg', 1658, 'Tuonie', 1668, 'Nf3,Nf6,d4,d5,c4,g6,Nc3,Bg7,g3,dxc4,Qa4+,c6,Qxc4,Be6,Qd3,O-O,Bg2,Nbd7,O-O,Nb6,b3,Qc7,Bf4,Qd7,Ne5,Qc8,Na4,Nbd5,Bd2,b6,Rac1,Qb7,Nxc6,b5,Nb2,Rac8,Nb4,a5,Nxd5,Bxd5,e4,Bxe4,Bxe4,Qxe4,Qxb5,Qxd4,Nc4,Rxc4,Be3,Qb2,Qxc4,Qxa2,Ra1,Qb2,Bd4,Qd2,Rfd1,Qh6,Rxa5,Ng4,Bxg7', 'Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/ukpFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uKPyT', 'Rapid', 'Kaustubh07', 1898, 'jaybamk', 1895, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,Bg4,Nbd2,a6,c3,Nge7,Qb3,Na5,Bxf7+,Kd7,Qa4+,Nac6,h3,Be6,Bxe6+,Kxe6,Qc4+,d5,exd5+,Nxd5,Ne4,Ke7,O-O,h6,d4,Nb6,Qc5+', 'Ke8,Qxc6+,bxc6', 'https://lichess.org/training/uKPyT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ukqnS', 'Rapid', 'Nikosmeni', 1749, 'masudathari', 1863, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Bc5,O-O,d6,c3,Bg4,h3,Bh5,b4,Bb6,a4,a6,a5,Ba7,Nbd2,Nf6,Qe1,O-O,Nh4,Nh7,Nf5,Ne7,Kh1,Nxf5,exf5,Qg5,g4,Bxg4,hxg4,Qxg4,Qe4,Qh3+,Kg1,Ng5,Qg2,Qxf5,Ne4', 'Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/ukqnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKqw5', 'Rapid', 'ngemtot', 1664, 'AgriaXelona', 1679, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,Bd5,Bb7,Nxe5,Nxd5,Nxc6,Bxc6,exd5,Qe7+,Qe2,Qxe2+,Kxe2,Bxd5,f3,O-O-O,Nc3,Bc4+,d3,Re8+,Kf2,Bc5+,Kg3,Bd6+,f4,Be6,Ne4,Bd5,Nxd6+,cxd6,b3,h6,c4,bxc4,bxc4,Bc6,Rb1,g5,Rb6,Bb7,Rxd6,gxf4+,Bxf4,Rhg8+,Kh4,Bxg2,Rb1,Bf3,h3,Re6,Rbb6,h5,Rxa6,Reg6,Ra7,Rxd6,Bxd6,Rg6,Bf4,Rf6,Bg3,Re6,Ra5,Re3,Rc5+,Kd8,d4,Re4+,Kg5,Rxd4,Be5,Rd2', 'Bf6+,Ke8,Rc8#', 'https://lichess.org/training/UKqw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ukr4n', 'Rapid', 'EMTbot', 1868, 'Andry_Mada', 1797, 'e4,e5,Bc4,Nc6,Nf3,Nd4,c3,Nxf3+,Qxf3,Nf6,d4,d6,Bg5,Bg4,Qg3,Bh5,dxe5,dxe5,Qxe5+,Be7,Bxf6', 'Qd1#', 'https://lichess.org/training/ukr4n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UkR6d', 'Blitz', 'riveraruanoraphael', 1652, 'MaTy91Cz', 1562, 'e4,e5,Nf3,d5,Nxe5,dxe4,Bc4,Be6,Bxe6,fxe6,Qe2,Qg5,Qxe4,Bd6,d4,Qh5,O-O,Nc6,h3,Nf6,Qe1,Nxe5,dxe5,Bxe5,Nc3,O-O-O,Be3,Kb8,Nb5,b6,Rc1,Bxb2,Rb1,Qxb5,Bc1,Bc3,Qxc3,Qxb1,Bf4,Qxa2', 'Qxc7+,Ka8,Qc6#', 'https://lichess.org/training/UkR6d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uKrWs', 'Rapid', 'Mhamed', 1894, 'alfierelebez', 1964, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Nf3,Bg4,Be3,e6,h3,Bh5,g4,Bg6,a3,Ne4,Nxe4,Bxe4,Bd3,Bxf3,Qxf3,dxc4,Bxc4,Nxd4,Bxd4,Qxd4,Bb5+,Ke7,Qxb7+,Kf6,Qxa8', 'Bb4+,Kf1,Rxa8', 'https://lichess.org/training/uKrWs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ukS1g', 'Bullet', 'GM alireza2003', 3205, 'GM penguingim1', 3175, 'd4,d5,c4,e6,Nc3,Be7,Nf3,Nf6,Bf4,O-O,e3,Nbd7,Qc2,c5,dxc5,Nxc5,a3,Nce4,Rd1,Qa5,Be5,Rd8,cxd5,exd5,Bd3,Bg4,O-O,Rac8,Qb1,Bxf3,gxf3,Ng5,Be2,Bd6,Bxf6,gxf6,f4,Ne4,Nxd5,f5,Bf3,Kh8,Bxe4,fxe4,Qxe4,Rg8+,Kh1,Rce8,Qd4+,Rg7,Rg1,Bf8,Nf6,Rc8,Nd5,Qa6,Rg5,Qc6,Rdg1,f6,Rxg7,Bxg7,e4,Rd8,Qd3,h6,Qg3,Rd7,Qg2,f5,Ne3,Qxe4,Qxe4,fxe4,Nf5,Bxb2,Nxh6,Bxa3,Ng4,Bd6,Nf6,Rg7', 'Rxg7,Kxg7,Ne8+', 'https://lichess.org/training/ukS1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ukSuR', 'Classical', 'RedRakus', 1859, 'Agent_______Cooper', 1786, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nf3,Bg4,Nc3,e6,Be2,Nc6,Be3,Bb4,O-O,O-O,h3,Bxf3,Bxf3,Nc4,Qe2,Nxe3,fxe3,Qg5,e5,a6,Ne4,Qe7,a3,Ba5,Rf2,Bb6,Kh1,Nd8,b4,a5,Raf1,axb4,axb4,Qxb4,Bh5,Qe7,Rf6,c5,Qf2,cxd4,exd4,Ra4,Bxf7+,Nxf7,Nd6,Bxd4,Rxf7,Bxf2,Rxe7,Bg3', 'Rxf8+,Kxf8,Re8#', 'https://lichess.org/training/ukSuR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uKT0b', 'Rapid', 'mateus999', 1842, 'Irek2020', 1801, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,h3,Nf6,Re1,O-O,c3,Be6,Bb3,a5,d4,exd4,cxd4,Bxb3,axb3,Bb6,Nc3,h6,Bf4,Re8,Qd2,Kh7,Rad1,Nh5,Bh2,Qf6,Nd5,Qg6,Nxb6,cxb6,Nh4,Qf6,Nf5,Rad8,g4,Qg6,Kh1,Nf6,Nxd6,Rxd6,Bxd6,Nxe4,Qf4,Nxd6,d5,Rxe1+,Rxe1,Nb4,Qf3,Qd3,Re3,Qxd5', 'Qxd5,Nxd5,Rd3,Ne4,Rxd5', 'https://lichess.org/training/uKT0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uktLa', 'Rapid', 'railroadman', 1685, 'SnakeOilSalesman007', 1791, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,d5,exd5,Nxd5,O-O,Be7,Qxd4,Nf6,Qxd8+,Bxd8,Nc3,O-O,Bf4,Nc6,Nb5,Na5,Bb3,Nxb3,axb3,Nd5,Bd2,a6,c4,Nb6,Nbd4,c5,Nc2,Bf5,Ne3,Bg6,Bc3,Nd7,Rfd1,Nf6,Rd2,Ne4,Rd7,Nxc3,bxc3,b6,Rad1,Bf6,Nd5,Bc2,Nxf6+,gxf6,R1d2,Bxb3,Nh4,Bxc4,Nf5,Rfe8,f3,Re1+,Kf2,Rf1+,Kg3,Be6', 'Rd8+,Rxd8,Rxd8#', 'https://lichess.org/training/uktLa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UkTMD', 'Classical', 'youngmoney2299', 1905, 'clown887', 1969, 'e4,g6,Nf3,Bg7,d4,d6,Nc3,a6,Bc4,e6,O-O,b5,Bb3,Bb7,Ng5,h6,Nh3,b4,Na4,Bxe4,Nf4,Nf6,Bxe6,fxe6,Nxe6,Qe7,Nxg7+,Qxg7,Re1,O-O,c3,bxc3,Nxc3,Bb7', 'Qb3+,Qf7,Qxb7', 'https://lichess.org/training/UkTMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uku93', 'Rapid', 'Davidik9', 1781, 'Alexey967', 1821, 'd4,Nf6,c4,e6,Nc3,b6,Bf4,Bb7,e3,Bb4,Nf3,O-O,Bd3,d6,a3,Bxc3+,bxc3,Nh5,Bg3,Nxg3,hxg3,h6,Qc2,Bxf3,gxf3,Nd7,O-O,Nf6,Kg2,c5,dxc5,dxc5,Rad1,Qc7,f4,e5,fxe5,Qxe5,Be2,Rad8,Bf3,Rxd1,Rxd1,h5,Qd3,Qg5,Bd5,h4,e4,g6,f4,Qg4,Rh1,hxg3,Rh3,Qxf4,Rxg3,Nxd5,cxd5,Re8,Re3,Qg4+,Kf2,Qf4+,Ke2,Kg7,c4,Rh8,Kd1,Rh1+,Kc2,Qh2+,Kb3,Ra1', 'Qc3+,Kf8,Qxa1', 'https://lichess.org/training/Uku93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UkWi4', 'Classical', 'lavaloonion', 2063, 'kush510', 2157, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,Bd7,Be2,Nxd5,d3,Be7,Ne4,f5,Nbc3,Nxc3,Nxc3,c6,a3,b6,Bf3,O-O,O-O,Qc7,b4,Nb7,Re1,Rae8,Bb2,Bf6,b5,Rd8,Qe2,Rfe8,Rad1,Nc5,a4,Ne6,bxc6,Bxc6,Nb5,Bxb5,axb5,e4,dxe4,Bxb2,exf5,Nd4,Bd5+,Kf8,Qh5,Rxe1+,Rxe1,Qd7,Be6,Nxe6,fxe6,Qe7,Qxh7,Qxe6,Qh8+,Kf7,Qh5+,g6,Qf3+,Qf6,Qb7+,Kg8,Qxa7,Bc3,Rf1,Rd2,Qb8+,Kg7,Qc7+,Kh6,Qc4,Rxc2,Qe4,Rb2,Qc6,Qxf2+,Rxf2', 'Rb1+,Rf1,Bd4+,Kh1,Rxf1#', 'https://lichess.org/training/UkWi4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKWr2', 'Rapid', 'Archiekhv', 1796, 'lutfulla11', 1845, 'e4,e5,Nf3,f5,exf5,e4,Nd4,Nf6,d3,Bc5,Nb3,Bb6,dxe4,Nxe4,Be3,Qe7,Bxb6', 'Nc3+,Be3,Nxd1', 'https://lichess.org/training/UKWr2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKXAt', 'Rapid', 'whynationsfail', 1653, 'oduarte', 1603, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nge7,Re1,f6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,e5,c5,Qc3,f5,e6,dxe6,Bxe6,Bxe6,Nd2,Qd4,Qxd4,cxd4,Rxe6,O-O-O,Nc4,Nd5,Re5,g6,f4,Bg7,Re6,Rhe8,Rxg6,Bf8,Kf2,Ne3,Ne5,Nxc2', 'Rc6+,Kb7,Rxc2,d3,Rd2', 'https://lichess.org/training/UKXAt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ukxrx', 'Rapid', 'IlnurValeev', 1724, 'kushi2000', 1675, 'e4,e5,d4,exd4,Qxd4,Nc6,Qc4,Bd6,Nf3,Nf6,Bd3,h6,c3,O-O,O-O,a6,a4,Na5,Qa2,Re8,b4,Nc6,Nbd2,Bf4,Bc4,d5,exd5,Nxd5,Bxd5,Be6,Bxe6,Rxe6,Rd1,Qf6,Qc2,Rae8,Bb2,Bxd2,Rxd2,Qf4,b5,Ne5,Ne1,Ng4,g3', 'Rxe1+,Rxe1,Rxe1+,Kg2,Ne3+,fxe3,Qf1#', 'https://lichess.org/training/ukxrx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UKxxM', 'Blitz', 'FM munster1', 2539, 'Markus_Lammers', 2519, 'e4,Nc6,Nc3,Nf6,Nf3,d5,exd5,Nxd5,Bb5,Nxc3,bxc3,Bg4,h3,Bh5,g4,Bg6,Ne5', 'Qd5,Bxc6+,bxc6', 'https://lichess.org/training/UKxxM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ukyx9', 'Blitz', 'zex535', 1759, 'jkl22', 1868, 'f4,d5,Nf3,g6,e3,Bg7,h3,Nf6,g4,c6,d4,Ne4,Bd3,f5,gxf5,Bxf5,Nbd2,Nd7,Nxe4,dxe4,Bxe4,Bxe4,Rg1,Nf6,Qe2,Qd7,Ng5,e6,b3,O-O-O,Ba3,Rhe8,Bc5,Kb8,O-O-O,h6,Nf3,Nd5,Kb2,Qc7,c4,Nf6,Ne5,g5,fxg5,hxg5,Rxg5,Bh6,Rgg1,Rg8,Rxg8,Rxg8,Rf1,Rg2,Qxg2,Bxg2,Rxf6,Bxe3,Rf8+,Qc8', 'Bd6+,Ka8,Rxc8#', 'https://lichess.org/training/ukyx9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ul2gH', 'Rapid', 'Lebedev2005', 1671, 'Milan-Kralj', 1719, 'd4,d5,c4,e6,Nc3,Nf6,Qc2,c6,Nf3,Be7,e4,dxe4,Nxe4,O-O,Neg5,h6,Ne4,c5,Be3,cxd4,Bxd4,Nc6,Rd1,Nxd4,Rxd4,Qa5+,Nc3,b6,Bd3,Bb7,Qe2,Bb4,O-O,Bxc3,bxc3,Qxc3,Qe3,Bxf3', 'Bh7+,Kxh7,Qxc3', 'https://lichess.org/training/ul2gH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ul2Zo', 'Classical', 'stojanovmilan123', 1656, 'thegegors', 1687, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Nf3,Bg4,h3,Bxf3,Qxf3,c6,Nc3,Qa5,Bd2,Bb4,a3,O-O,O-O,Bxc3,Bxc3,Nxc3,bxc3,Qxc3,Bb3,b5,Rfe1,a5,a4,Nd7,Rec1,Nc5,Ra3,bxa4,Bxf7+,Rxf7,Rxc3,Rxf3,gxf3,Ne6,Rxc6', 'Nd4,Rc4,Ne2+,Kf1,Nxc1', 'https://lichess.org/training/ul2Zo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ul3J7', 'Rapid', 'TUQUI60', 1898, 'kian55', 1868, 'e4,c6,Nf3,d5,exd5,cxd5,d4,a6,h3,Bf5,Nbd2,e6,c3,Nf6,Ne5,Nbd7,f4,Nxe5,fxe5,Nd7,Nf3,Qb6,Bd3,Bg6,O-O,Bh5,Qe1,Be7,Qg3,Bg6,Bxg6,hxg6,Rf2,O-O-O,Bg5,f6,exf6,gxf6,Bf4,g5,Be3,Bd6,Qg4,Rde8,Re1,Rhg8,Nh2,f5,Qe2,Bg3,Nf3,Bxf2+,Bxf2,Nf6,Ne5,Ne4,Be3,f4,Bc1,Ng3,Qg4,Kd8,Nf7+,Ke7,Nxg5,Ref8', 'Rxe6+,Qxe6,Qxe6+', 'https://lichess.org/training/Ul3J7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uL5Je', 'Rapid', 'akmanbetov55', 1745, 'Islam-ng', 2221, 'e4,e5,d4,exd4,Nf3,c5,c3,dxc3,Bc4,Nc6,Nxc3,d6,O-O,Bg4,Qb3,Qd7,Ng5,Bh5,Nd5,h6,Nh3,Nd4,Qd3,Be2,Qc3,Bxf1,Bxf1,Ne7,Be3,Nxd5,exd5,Nf5,Re1,O-O-O,b4,Nxe3,Rxe3,Rg8,Nf4,g5,Nd3,Bg7,Qa3,Kb8,bxc5,dxc5,Nxc5,Qxd5,Rb3,Bf8,Na6+,Ka8,Nc7+,Kb8,Na6+,Ka8,Nc7+,Kb8,Qc1,Qxb3,axb3,Rc8,Na6+,bxa6,Qe3,Bc5,Qe5+,Kb7,g3,Rge8,Qd5+,Kb6,h3,Rcd8,Qc4,Rd2', 'Qxa6+,Kc7,Qa5+', 'https://lichess.org/training/uL5Je');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ul6Jh', 'Blitz', 'Baffle64', 1632, 'Amrish', 1658, 'e4,e5,f4,Nc6,Nf3,f6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,O-O,Bg4,Qe1,Bxf3,Rxf3,Nxd4,Kh1,Nc2,Qh4,Nxa1,Nc3,Nc2,Ne2,Qe7,e5,dxe5,fxe5,Qxe5,Bf4,Qxb2,Qh5+,g6,Bf7+,Kxf7,Qd5+,Kg7,Qd7+,Kf8,h3,Qb1+,Kh2,Ne7,Bh6+,Kf7,Rxf6+,Kxf6,Ng3,Rad8,Ne4+,Kf7', 'Ng5+,Kg8,Qxd8#', 'https://lichess.org/training/ul6Jh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ul6RN', 'Rapid', 'hollyelf', 2265, 'ilya_k', 2167, 'e4,c6,d4,d5,f3,Nd7,e5,f6,f4,f5,Bd3,e6,g4,Qh4+,Kf1,fxg4,h3,h5,Kg2,Ne7', 'hxg4,Qxg4+,Qxg4,hxg4,Rxh8', 'https://lichess.org/training/ul6RN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ul7RK', 'Blitz', 'fried_gohan', 1836, 'balous', 1861, 'e4,c5,d4,cxd4,Nf3,d6,Nxd4,Nf6,Nc3,a6,a4,Nc6,Nxc6,bxc6,e5,dxe5,Qxd8+,Kxd8,Bc4,e6,Bg5,Be7,O-O,h6,Bh4,g5,Bg3,Nd7,Rfe1,f5,Bxe5,Nxe5,Rxe5,Bf6,Ree1,e5,Rad1+,Kc7,a5,Rb8,Bb3,e4,f3,exf3,gxf3,Bb7,Na4,Rbd8,Nc5,Bd4+', 'Rxd4,Rxd4,Ne6+,Kb8,Nxd4', 'https://lichess.org/training/Ul7RK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uL7xR', 'Blitz', 'BalaRionegrina', 2245, 'GranTorre', 2275, 'e3,Nf6,d4,g6,f4,Bg7,Nf3,O-O,Bd3,d6,c3,c5,Nbd2,Nc6,O-O,e5,b3,exd4,cxd4,cxd4,exd4,Nd5,Ne4,Nxd4,Bb2,Nxf3+,Qxf3,Bxb2,Rae1,Bg7,Kh1,Nb4,Bb1,Bf5,g4,Bxe4,Rxe4,Nc6,f5,Be5,Qf2,Qg5,Bd3,gxf5,gxf5,Kh8,f6,Rg8,Rh4,Rg6,Bxg6,Qxg6,Rg1,Qxf6,Qe1,Qf3+,Rg2,Rg8', 'Rxh7+,Kxh7,Qh4+,Qh5,Qxh5#', 'https://lichess.org/training/uL7xR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ul8nb', 'Classical', 'Ajinyan-14-Garik', 2083, 'andjeogabriel', 2119, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,d6,h3,Na5,Bb3,Nxb3,axb3,O-O,Nc3,Bd7,Be3,a6,Nd2,c6,f4,exf4,Bxf4,Be6,Bg3,d5,Qf3,dxe4,Ndxe4,Nxe4,Nxe4,Bd5,Qe2,Re8,Qf2,f6,Nc5,b6,Nxa6,Rxa6', 'Rxa6,Bc5,d4', 'https://lichess.org/training/ul8nb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uLBwg', 'Rapid', 'mstef0', 1675, 'JohnShepard', 1637, 'd4,e6,Bf4,d5,e3,Nf6,Bd3,Nbd7,Nd2,c5,c3,Qb6,Rb1,h6,Ngf3,cxd4,exd4,Nh5,Be3,Bd6,Ne5,Nhf6,Bf4,Qc7,Ndf3,O-O,Bc2,Nh5,Qd3,f5,Nxd7', 'Nxf4,Nxf8,Nxd3+', 'https://lichess.org/training/uLBwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UlbZx', 'Blitz', 'Abenthy', 1546, 'benilinus', 1510, 'e3,e5,g4,d5,h4,c5,Bg2,Nf6,g5,Nh5,Bf3,g6,Bxh5,gxh5,Qxh5,Nc6,Nc3,d4,Ne4,Bf5,Nf6+,Ke7,e4,Bg6,Qg4,Nb4,d3,Nxc2+,Ke2,Nxa1,h5,Bg7,hxg6,hxg6,Rxh8,Qxh8', 'Qd7+,Kf8,Qd6#', 'https://lichess.org/training/UlbZx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ULCz9', 'Rapid', 'memerevi3w', 2168, 'mym56', 2045, 'Nf3,Nf6,c4,e6,Nc3,d5,d4,Be7,Bf4,c5,cxd5,Nxd5,Bg3,Nc6,e4,Nxc3,bxc3,cxd4,cxd4,Qa5+,Ke2,O-O,Qb3,b6,Rd1,Rd8,Ke3,Bb7,Bb5,Rac8,Rc1,Nxd4,Nxd4,Bc5,Rxc5,bxc5,Nf3,c4,Bxc4,Qc5+,Kf4,h6,h4,Ba8,Ba6,Rc7,Kg4,Bxe4,Bxc7,Qxc7,Kh3,Qf4,Be2,Bf5+,g4,Qxg4+,Kh2,Qf4+,Kg2,Qg4+,Kf1,Qf4,Qe3,Qb4,Qb3,Qf4,a4,Rb8,Qe3,Rb1+,Kg2', 'Qg4+,Kh2,Qh3#', 'https://lichess.org/training/ULCz9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UlDTy', 'Classical', 'vp47', 1962, 'oguzhanfirtina', 1930, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,O-O,Nf6,d4,d6,d5,Ne7,Bg5,Ng6,Bxf6,Qxf6', 'Qa4+,Kd8,Qxa5', 'https://lichess.org/training/UlDTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ulDWI', 'Classical', 'a2v', 1602, 'kevinelpeque', 1745, 'd4,d5,c4,c6,Nf3,dxc4,e3,b5,a4,e6,axb5,cxb5,Nc3,Bb4,Bd2,Bxc3,Bxc3,Ne7,Ne5,Bb7,b3,O-O,bxc4,f6,Nf3,bxc4,Bxc4,Nd5,Bxd5,Bxd5,O-O,Qd7,Bb4,Re8,Bc5,Qb7,Qa4,Nd7,Rfb1,Nxc5,dxc5,Qc7,Rc1,Bxf3,gxf3,Red8,Ra2,Rd5,Qe4,Rg5+,Kh1,Re8,Rac2,Kf7,c6,Rd8,Qxh7,f5,h4,Rg6,h5', 'Rh6,Qxh6,gxh6', 'https://lichess.org/training/ulDWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uleR0', 'Rapid', 'CEDEOTE', 1926, 'akropol77', 1817, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,g4,Bg6,h4,h6,Bg2,c5,Nge2,cxd4,Nxd4,Bc5,Be3,Qb6,O-O,Nc6,Nxc6,bxc6', 'Na4,Bxe3,Nxb6', 'https://lichess.org/training/uleR0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ULEtU', 'Rapid', 'echanson', 1869, 'nopcrox', 1840, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,d3,Nc6,a3,Be7,O-O,O-O,Ne2,Be6,Bxe6,fxe6,c3,d5,Qc2,d4,cxd4,exd4,b4,e5,b5,Na5,Nxe5,Bd6,Nc4,Nxc4,Qxc4+,Kh8,Nxd4,Be5,Be3,Ng4,Ne6,Qh4,h3,Nxe3,fxe3,Rxf1+,Rxf1,Qg3,Nf4', 'Qxe3+,Kh1,Bxf4', 'https://lichess.org/training/ULEtU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uLFtJ', 'Blitz', 'deepakchavan15071988', 1556, 'tazogreentea', 1539, 'd4,e6,c4,d6,Nc3,Nf6,Nf3,Bd7,Bg5,Be7,Qb3,b6,e3,Bc6,Be2,a5,Rd1,h6,Bh4,g5,Bg3,Ne4,d5,Nxg3,hxg3,Bd7,Nb5,Bxb5,Qxb5+,Qd7,Qxd7+,Nxd7,dxe6,fxe6,Nd4,e5,Ne6,Rc8', 'Bh5#', 'https://lichess.org/training/uLFtJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UlgOn', 'Rapid', 'Sakhawat-Chess', 2089, 'AbHrAjYoTy1', 2079, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Be7,Bg5,O-O,e3,dxc4,Bxc4,a6,O-O,b5,Bd3,Bb7,Bxf6,Bxf6,Ne4,Be7,Rc1,Nd7,Qc2,Rc8,Nc5,Nxc5,dxc5,Bxf3,gxf3,Bxc5,Bxh7+,Kh8,Qxc5,Kxh7,Qh5+,Kg8,a4,c6,Kh1,Qf6,Rc3,g6,Rg1,Kg7,e4,Rh8,Qg5', 'Rxh2+,Kxh2,Rh8+,Kg2,Qxg5+', 'https://lichess.org/training/UlgOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ulGpI', 'Rapid', 'HLDVkings', 1864, 'Nikulin_D', 2043, 'd3,e5,e4,Nc6,Nc3,Nf6,Nf3,Bc5,h3,O-O,Be3,Bxe3,fxe3,d6,Be2,Be6,O-O,d5,exd5,Nxd5,Qd2,Nxc3,Qxc3,Qd6,Rad1,Rad8,d4,exd4,exd4,Rfe8,Bb5,Bd5,a3,Re7,Bc4,Bxf3,Rxf3,Nxd4,Rxf7,Ne2+', 'Bxe2,Qxd1+,Bxd1', 'https://lichess.org/training/ulGpI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UliX4', 'Blitz', 'IM vespillo77', 2483, 'jpablito_7', 2494, 'e4,Nc6,d4,e5,d5,Nce7,Nc3,Ng6,h4,h5,g3,Nf6,Be2,Bc5,Nh3,d6,Bg5,Bxh3,Rxh3,Qd7,Rh1,Ng4,Bxg4,hxg4,Qd2,f5,O-O-O,Rh5,Rde1,a6,exf5,Qxf5,Ne4,Bb6,Qd3,Qf7,Rhf1,Ne7,f3,gxf3,Rxf3,Qxd5,Qf1,Kd7,Rf7,Re8,Rxg7,Qxa2,Nf6+,Kc8,Nxe8,Qa1+,Kd2,Ba5+,Ke2,Qxb2,Qf8,Qxc2+,Kf1,Qf5+,Qxf5+,Nxf5,Rg8,Nxg3+,Kg2,Bxe1', 'Nf6#', 'https://lichess.org/training/UliX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ulk4D', 'Blitz', 'TurkishCuirassier', 1603, 'knightmare007', 1626, 'd4,d5,c4,dxc4,e3,b5,a4,Qd5,Nc3,Qg5,axb5,e6,Qf3,Bb4,Qxa8,Bxc3+,bxc3,Qxb5,Rxa7,Ne7,Rxc7,O-O,Bxc4,Qb1,Ne2,Nbc6,O-O,Qg6,Bb5,e5,Bxc6,Nxc6,Rxc6,Be6,d5,Rxa8,dxe6,fxe6,Rd1,Rf8,Rcd6,Qc2,Kf1,h6,Ba3,Rb8,Rc1,Rb1,Rdd1', 'Qxd1+,Rxd1,Rxd1#', 'https://lichess.org/training/ulk4D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uLkKH', 'Rapid', 'direstraits', 1723, 'kerk2020', 1677, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nge7,Nc3,g6,O-O,Bg7,Re1,O-O,d3,d6,Be3,Bg4,h3,Bd7,Qd2,f5,exf5,gxf5,Bh6,f4,Bxg7,Kxg7,d4,Qc8,dxe5,Bxh3,exd6,Bxg2,dxe7,Qh3,exf8=Q+,Rxf8,Nh2,Bh1,Bxc6,Bxc6,Qd4+,Kh6,Nd5,Rg8+,Ng4+', 'Rxg4#', 'https://lichess.org/training/uLkKH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ull3t', 'Rapid', 'manwithoutavan', 1678, 'arj_seo', 1684, 'e4,c5,Nf3,d6,c3,Nf6,Bd3,e6,Bc2,Nc6,d4,cxd4,cxd4,Be7,O-O,O-O,Nc3,a6,a3,b5,Bg5,Bb7,Qd3,g6,Bh6,Re8,e5,dxe5,dxe5,Qxd3,Bxd3,Nd7,Be4,Rab8,Bxc6,Bxc6,Rfd1,Nb6,Nd4,Bb7,Nde2,Nc4,b3,Nxe5,Ng3,Rbd8,Rxd8,Rxd8,h3,Bf6,Rc1,Nd3,Rc2,Nc5,b4,Nd3,Nce4,Bh8,Nc5,Nxc5,Rxc5,Rd1+,Kh2,Bd4', 'Rc7,f5,Rxb7', 'https://lichess.org/training/Ull3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ULlwS', 'Blitz', 'Nadim74', 1917, 'iCouldBeAParrot', 1886, 'e4,d5,exd5,Qxd5,Nf3,Nf6,c4,Qa5,a3,c6,b4,Qc7,Nc3,Bg4,Be2,e6,O-O,Be7,Bb2,O-O,h3,Bh5,Re1,Nbd7,d4,Rad8,Qc2,Rfe8,Rad1,Nf8,Ng5,Bxe2,Nxe2,Ng6,Nf3,Nf4,Nxf4,Qxf4,b5,cxb5,cxb5,Rc8,Qd3,Red8,Ne5,Nd5,g3,Qg5,h4,Qh5,Qe4,Bd6,Nf3,Qg6,Qxg6,hxg6,Rc1,Kf8,a4,Ke7,Kg2,Nb4,Rxc8,Rxc8,Rc1,Rxc1,Bxc1,Nd3,Be3,Nb4,Nd2,Nd5,Nc4,b6,a5,Kd7,axb6,Nxb6,Ne5+,Bxe5,dxe5,f6,f4,f5,Kf3,Kc7,g4,Kb7,h5,gxh5,gxf5,exf5,Bxb6', 'Kxb6,e6,Kc7,e7,Kd7,e8=R,Kxe8', 'https://lichess.org/training/ULlwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ULmNT', 'Rapid', 'cycloman', 1820, 'h97k', 1809, 'e4,c5,Bc4,Nc6,Nf3,e6,d4,cxd4,Nxd4,Nxd4,Qxd4,Qa5+,Bd2,Qd8,O-O,Nf6,e5,Nd5,Bxd5,exd5,Qxd5,Be7,Kh1,O-O,f4,Re8,f5,Bh4,f6,gxf6,exf6,Bxf6,Bh6,Re6,Nc3,Qe8,Qf3', 'Bxc3,Qg3+,Rg6', 'https://lichess.org/training/ULmNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ulnky', 'Rapid', 'castiloj', 1900, 'pavel4455', 1911, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,exd4,Nxd4,Qf6,O-O,Be6,Nf3,Bg4,Bg5', 'Bxf3,Qxf3,Qxg5', 'https://lichess.org/training/Ulnky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ulnVY', 'Rapid', 'Fusiek', 1735, 'Roma0268', 1695, 'd4,d5,c4,dxc4,Nc3,Nc6,e4,Qd7,Nf3,Nf6,Bxc4,e6,O-O,Bb4,a3,Bxc3,bxc3,a6,d5,exd5,exd5,Na5,Ne5,Qd6,Qa4+,b5,Qxa5,bxc4,Bf4,Qxd5,Qxc7,O-O,Rad1,Qe4,Qxc4,Bb7,Qxe4,Nxe4,c4,Rac8,Rfe1,Nc3,Rd7,Be4,f3,Bf5,Ra7,Be6,Rxa6,Bxc4,Nxc4,Rxc4,Bd6,Rfc8,Rb6,h6,Rb8,Rxb8,Bxb8,Nb5,Ra1,Ra4,Kf2,Rxa3,Rxa3,Nxa3,Ke3,Nc4+,Ke4,Nd2+,Kd5,Nf1,g4,Nd2,f4,Nf3,f5,Ng5,Bf4,Nf3,Ke4,Ne1,h4,Kh7,g5,hxg5,hxg5,Ng2,Bg3,g6,f6,Kg8,Ke5,Ne3,Bf4,Nf5,Kd5,Kf8,Kc6,Ke8,Kd5,Kd7,Kc5,Ke6,Kc6,Nh4,Kc7,Nf3,Kd8,Kf5,Bc1,Nxg5,Bxg5,Kxg5,Ke7,Kf5,Kxf7,g5,Kg7,g4,f7,g3,f8=Q+,Kg4,Qc8+,Kf3,Qc6+,Kf2,Qf6+,Kg1,Kg6,g2,Kg5,Kh1,Qh6+,Kg1,Qb6+,Kh2,Qd6+,Kh1,Qh6+,Kg1,Kg4,Kf1,Qf4+,Kg1,Kh3,Kh1,Qg3,g1=Q', 'Qf3+,Qg2+,Qxg2#', 'https://lichess.org/training/ulnVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uLOQm', 'Rapid', 'ican', 1981, 'keka34', 1887, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,c3,Be7,cxd4,Nf6,Nc3,Bg4,h3,Bxf3,gxf3,Qd7,Be3,O-O,Bb5,a6,Ba4,b5,Bc2,Nb4,Bb1,c5,d5,a5,a3,Na6,Qd3,c4,Qc2,b4,Ne2,c3,bxc3,Rfc8,Bg5,h6,Bxf6,Bxf6,e5,dxe5,Qh7+,Kf8,Be4,Nc5,axb4,Nxe4,fxe4,axb4', 'Rxa8,Rxa8,Qh8+', 'https://lichess.org/training/uLOQm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ULq6x', 'Rapid', 'Gavrosh', 1709, 'Bobbylon', 1740, 'e4,e5,Bc4,Nf6,d3,Bc5,Nc3,O-O,Bg5,h6,Bh4,c6,f3,g5,Bg3,d6,Qe2,b5,Bb3,a5,a3,Bb7,O-O-O,b4,axb4,axb4,Nb1,Ra1,h4,Nh7,hxg5', 'Qxg5+,f4,Qxg3', 'https://lichess.org/training/ULq6x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ULQo8', 'Rapid', 'SuperDodgy', 2194, 'bettik', 2037, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Bb4+,Bd2,Bxd2+,Nbxd2,d6,O-O,Nbd7,Qc2,c5,e4,cxd4,Nxd4,O-O,Rad1,d5,exd5,exd5,cxd5,Bxd5,Nc6,Rc8,Nb3', 'Rxc6,Qxc6,Bxc6', 'https://lichess.org/training/ULQo8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ULRhR', 'Rapid', 'server0001', 2038, 'chikay', 1930, 'd4,d5,Bf4,Nf6,Nf3,e6,h3,g6,e3,Bg7,Nbd2,O-O,Be2,Nbd7,c3,c5,O-O,b6,Rc1,Bb7,b3,Rc8,Bb5,a6,Bxd7,Qxd7,Ne5,Qd8,c4,dxc4,Ndxc4,Qd5,f3,Qd8,dxc5,bxc5,Nd6,Rc7,Nxb7,Rxb7,e4,Qc7,Bh2,Qc8,Qc2,Rb5,Nc4,Qc6,Nd6,Ra5,b4,Ra3,bxc5,Nd7,Qc4,Nxc5,Qxc5', 'Qxc5+,Rxc5,Bd4+,Kh1,Bxc5', 'https://lichess.org/training/ULRhR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UlSuf', 'Blitz', 'lhawta', 1753, 'AykutKarabacak', 1713, 'd4,c6,c4,d5,Nf3,Nf6,g3,Bg4,cxd5,Nxd5,Nc3,e6,Bg2,Nd7,O-O,Bb4,Qc2,Qa5,Bd2,O-O,e4,Nxc3,Bxc3,Bxc3,bxc3,c5,h3,Bxf3,Bxf3,cxd4,cxd4,Rac8,Qd3,b6,Rfd1,Rc3,Qe2,Qa3,Bg2,Rfc8,d5,Rc2,Qb5,Nc5,d6,Rb2,d7,Rd8,Qc6,Qa4,Qc8,Qxd7', 'Qxd8+,Qxd8,Rxd8#', 'https://lichess.org/training/UlSuf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uLT55', 'Rapid', 'gkonig', 1826, 'sonjeev', 1802, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nge2,Nf6,d3,O-O,O-O,a6,h3,b5,Nf4,Bb7,Be3,d6,Ncd5,e6,Nxf6+,Bxf6,Qg4,Ne5,Qe2,Qc7,c3,Rad8,d4,cxd4,cxd4,Nc4,Rac1,Qa5,b3,Nxe3,fxe3,Rc8,Qg4,Rc7,Rxc7,Qxc7,Nxg6,fxg6,Qxe6+,Qf7', 'Rxf6,Qxe6,Rxe6', 'https://lichess.org/training/uLT55');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ULU0j', 'Blitz', 'WeChessYoutube', 2448, 'NM Iwasinelectrical', 2282, 'e4,g6,d4,Bg7,Nc3,d6,h4,h5,Nf3,Nf6,Ng5,O-O,Bc4,e6,Bb3,a6,a4,Nc6,Be3,Ng4,Qd2,Nxe3,fxe3,Bh6,Nf3,Na5,Ba2,Bd7,O-O-O,b5,Ne2,Nc4,Bxc4,bxc4,Nc3,Rb8,Qe2,Rb4,Ng5,Bxg5,hxg5,Qxg5,Rdf1,Qa5,g4,Bxa4,gxh5,Rxb2,Nxa4,Ra2,hxg6,fxg6,Rxf8+,Kxf8,Qxc4', 'Ra1+,Kb2,Rxh1', 'https://lichess.org/training/ULU0j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ulUjx', 'Rapid', 'joseph200', 1904, 'GermanSaravia', 1957, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,d3,e6,Be3,b6,Qd2,h5,h4,Nge7,Nge2,d5,exd5,exd5,d4,c4,Nf4,Be6,Nxe6,fxe6,O-O-O,Qd7,Bh3,O-O-O,Ne2,Kb7,Nf4,Nf5,Nxg6,Rhg8,c3,Qe8,Nf4,Nd6,Bxe6,Ne4,Qc2,Rf8,Bxd5,Rxf4,Bxc6+,Qxc6,Bxf4,Nf6,Rhe1,Nd5,Qh7,Rd7,Qxh5,Qa4,Kb1,Qb5,Qf3,Ka6,Be5,Bh6,g4,Rf7,Qxf7,Nxc3+,Kc2,Nxd1,Rxd1,Qa4+,b3', 'Qxa2+,Kc3,Qxb3#', 'https://lichess.org/training/ulUjx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ULUST', 'Blitz', 'kiedysgral', 2097, 'Andrescapa', 2089, 'e4,c5,Nf3,Nc6,g3,g6,Bg2,Bg7,O-O,e6,d3,Nge7,Re1,O-O,Nbd2,d5,e5,Rb8,Nf1,b5,h4,a5,N1h2,c4,d4,b4,c3,bxc3,bxc3,Bd7,Ng4,Nf5,Bg5,Qb6,Nf6+,Bxf6,Bxf6,h5,Bh3,Nce7,Rb1,Qc7,Qd2,Rxb1,Rxb1,Rb8,Rxb8+,Qxb8,g4,hxg4,Bxg4,Qb1+,Kg2,Qe4,Qg5,Ba4,Bxe7,Nxe7,h5,Bd1,h6,Kh7,Kg3,Nf5+,Bxf5,Qxf5', 'Qxf5,exf5,Ng5+,Kxh6,Nxf7+', 'https://lichess.org/training/ULUST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UlVAM', 'Rapid', 'ScottPilgrim', 2230, 'volodimir_soroka', 2116, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,c5,Ngf3,Nc6,c3,Bd6,Bg3,Qc7,dxc5,Bxg3,hxg3,a5,Bb5,O-O,O-O,Na7,Bd3,Qxc5,Nb3,Qc7,a4,Nc6,Nbd4,Bd7,Nb5,Qb8,Bc2,Ne5,Nxe5,Bxb5,axb5,Qxe5,Qd4,Qd6,Rfd1,Rfc8,Qh4,Qc5,g4,Ne4,g5,g6,Bxe4,dxe4,Qxe4,Qxb5,Rd2,Rd8,Rad1,Rxd2,Rxd2,Rc8,Qf4,Qc4', 'Rd8+,Rxd8,Qxc4', 'https://lichess.org/training/UlVAM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UlVdd', 'Rapid', 'chesshelmet123', 1634, 'vvojnovski', 1743, 'e4,e5,Nf3,d6,d4,Bg4,Be2,exd4,Qxd4,Nc6,Qd5,Bxf3,Bxf3,Nf6,Qb3,h6,Qxb7,Nd4,Na3,Be7,O-O,Nxf3+,gxf3,O-O,Rd1,Nh5,e5,f5,Qd5+,Kh8,e6,Rf6,Kf1,Qc8,Re1,Qa6+,c4,c6,Qd4,d5,Qh4,Rxe6,Qxh5,Rxe1+,Kxe1,Bxa3,Bxh6,Bb4+,Bd2+,Kg8,Bxb4,Qxc4,a3,c5,Bc3,d4,Bd2,Rf8,Rc1,Qe6+,Kf1,c4,Re1,Qd5,Bb4,Rd8,Qg5,d3,Be7,Rd7,Bf6,d2,Re8+,Kf7,Re7+,Rxe7', 'Qxg7+,Ke6,Qxe7#', 'https://lichess.org/training/UlVdd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uLVGQ', 'Classical', 'Krystall777', 1678, 'Modawi', 1633, 'e4,e5,d4,exd4,c3,Qh4,Nf3,Qxe4+,Be2,d3,Qxd3,Qxd3,Bxd3,d5,O-O,Be7,Na3,a6,Re1,Nc6,Ne5,Nxe5,Rxe5,Nf6,Bg5,Kf8,Rae1,Be6,Bf5,Bxf5,Bxf6,Be6,Bxe7+,Kxe7,f4,c6', 'f5,Kd6,fxe6', 'https://lichess.org/training/uLVGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UlW52', 'Bullet', 'GM DrNykterstein', 3185, 'GM Zhigalko_Sergei', 3069, 'd4,Nf6,c4,e6,Nf3,b6,e3,Bb7,Bd3,d5,cxd5,exd5,O-O,Bd6,b3,O-O,Ba3,c5,Nc3,Nbd7,Rc1,Re8,Qe2,a6,Rfd1,Qe7,Qb2,Rac8,dxc5,bxc5,Bf1,d4,exd4,Bxf3,gxf3,cxd4,Bxd6,Qxd6,Ne4,Nxe4,Rxc8,Rxc8,fxe4,Ne5,Bg2,d3,h3,g5,Qd2,h6,Qe3,Rc2,Bf1,Qf6,Bxd3,Nf3+,Qxf3,Qxf3,Bxc2,Qxh3,Rd3,Qg4+,Rg3,Qe2,Bd3,Qxa2,Bc4,Kg7,Rf3,f6,e5,fxe5,Rf7+,Kg6,Re7,Kf6,Re6+,Kf5,Rxa6,Qb1+,Kh2,Qe4', 'Be6+,Kf4,Ra4,Kf3,Rxe4', 'https://lichess.org/training/UlW52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ULwK5', 'Rapid', 'MichaelRed', 1836, 'julius-perlis', 1799, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Nf6,O-O,Nxe4,Qf3,Nd6,Nxc6,bxc6,Bb3,Be7,c4,Ba6,Na3,Nf5,Bd2,Nd4,Qg3,Bxa3,Qxg7,Ne2+,Kh1,Rf8,bxa3,d5,Ba4,Qd7,Bh6,O-O-O,Qe5,Bxc4,Rab1,Qc7,Qxc7+,Kxc7,Bxf8,Rxf8,Rfe1,Nc3,Rb4,c5,Rxc4,dxc4,Bc2,Nxa2,Bxh7,Rd8,g4,Rd2,Bg8,Rxf2,h4,c3,h5,c2,h6,c1=Q', 'Rxc1,Nxc1,h7', 'https://lichess.org/training/ULwK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ulwo8', 'Blitz', 'Badintention', 2049, 'dedenksportkampioen', 2045, 'e4,Nf6,Nf3,Nxe4,d4,d5,c4,Bg4,cxd5,Qxd5,Nc3,Nxc3,bxc3,Bxf3,gxf3,e5,Qe2,Nd7,Bh3,O-O-O,O-O,f6,Be3,g5,Rfd1,e4,fxe4,Qxe4,Bg2,Qh4,Bxb7+,Kxb7,Rab1+,Nb6,a4,Bd6,f3,g4,f4,g3,Qg2+,Kc8,a5,Nc4,hxg3,Qxg3,Qxg3,Rhg8,Qxg8,Rxg8+,Kf2,Nxe3,Kxe3,Rg3+,Ke4,Rxc3,Rdc1,Ra3,Kf5,Rxa5+,Kxf6,Bxf4,Rf1,Bg5+,Ke6,h6', 'Rf8+,Bd8,Rxd8+,Kxd8,Rb8#', 'https://lichess.org/training/Ulwo8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uLXdd', 'Blitz', 'hanzoooooooooool', 1715, 'chess_god_pro', 1778, 'e4,e6,f4,d5,exd5,exd5,d4,Nf6,Nf3,Ne4,Bd3,Bg4,O-O,Bxf3,Qxf3,Qh4,Bxe4,dxe4,Qxe4+,Be7,Be3,Nc6,Bf2,Qf6,Nc3,O-O,Nd5,Qe6,Qxe6,fxe6,Nxc7,Rad8,Nxe6,Rd6,Nxf8,Bxf8,c3,Ne7,g3,Nf5,Rfe1,Nh6,Re8,Kf7,Rae1,Ng4,Rb8,Rb6,Ree8,Bd6,d5,Rxb2,Bxa7,Bxb8,Rxb8,Rxh2,Rxb7+,Kg6,Bd4,Rxa2,Rxg7+,Kf5,Rxh7,Ke4,Re7+,Kf3,d6', 'Ra1+,Re1,Rxe1#', 'https://lichess.org/training/uLXdd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uLXPI', 'Rapid', 'hunkarhan', 1691, 'JustKiddingLoL', 1662, 'e4,e5,Nc3,Bc5,Nf3,d6,Bc4,Nc6,h3,h6,d3,a6,a3,b5,Bd5,Bb7,b4,Ba7,O-O,Nf6,d4,Nxd5,exd5,Nxd4,Nxd4,Bxd4,Qg4,Bxc3,Qxg7,Rf8,Bxh6,Ke7', 'Bg5+,Kd7,Bxd8', 'https://lichess.org/training/uLXPI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ULy6a', 'Rapid', 'Chessilisk', 1939, 'Israellimaa', 1964, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,g6,Be3,Bg7,f3,O-O,Qd2,b5,Bb3,Nbd7,Bh6,Ne5,Bxg7,Kxg7,O-O-O,Nc4,Bxc4,bxc4,g4,Rb8,g5,Nh5,Nde2,Bd7,Ng3,Qb6,b3,cxb3,axb3,Rfc8,Nxh5+,gxh5,Qd4+', 'Qxd4,Rxd4,Rxc3', 'https://lichess.org/training/ULy6a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ulyac', 'Blitz', 'GM hitter1999', 2760, 'CM rob188', 2507, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,c3,g6,d4,Bg7,Bg5,f6,Be3,Bd7,O-O,Nh6,Nbd2,O-O,Re1,Kh8,Nf1,Ng4,Bc1,f5,dxe5,dxe5,h3,Nf6,exf5,gxf5,Bxc6,Bxc6,Nxe5,Qxd1,Rxd1,Bb5,Bg5,Ne4,Bf4,Rae8,Nf3,Be2,Rd7,Nc5,Rd2,Bxf3,gxf3,Ne6,Bh2,f4,Kg2,Rf6,Re1,Rg6+,Kh1,Rg8,Rde2,Ng5,Re8,Nxf3,Rxg8+,Kxg8,Re8+,Kf7,Re4,Be5,Nd2,Nxd2,Rxe5,f3,Rd5,Ne4,Rf5+,Rf6,Rxf6+,Kxf6,Bxc7,Nxf2+,Kh2,Ne4,c4,Ke6,b3,h5,h4,Kf5,Kh3,f2,Kg2,Kg4,Bd8,Kf4,b4', 'Ke3,Bb6+,Ke2,Bxf2,Nxf2', 'https://lichess.org/training/Ulyac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uM0GH', 'Classical', 'SuzuyaV', 1818, 'Master_Of_Minds', 2041, 'e4,Nc6,Nf3,e5,d4,Bd6,dxe5,Nxe5,Nxe5,Bxe5,Bc4,Nf6,Nc3,Bxc3+,bxc3,Nxe4,Bxf7+,Kxf7,Qd5+,Kf8,Qxe4,Qf6,O-O,d6,Re1,Bf5,Qxb7,Kf7,Qxc7+,Kg6,Bf4,Rhe8,Rxe8,Rxe8,Rd1,Bxc2,Qd7,Re6,Rf1,Bd3,Rd1,Bf5,h3', 'Re1+,Rxe1,Bxd7', 'https://lichess.org/training/uM0GH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('um1C6', 'Rapid', 'ersoyersoy', 1710, 'ak76', 1677, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,dxc4,e3,h6,Bf4,Nbd7,Bxc4,b5,Bb3,b4,Nce2,c5,dxc5,Nxc5', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/um1C6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('um1df', 'Classical', 'Iosh', 2220, 'Iplaygambit', 2071, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Bd6,O-O,O-O,Nc3,h6,Nge4,Nxe4,Nxe4,Bc7,b4,Nb7,Bb2,f5,Bc4+,Kh7,Ng3,Nd6,Bb3,f4,Ne2,Nf5,Nc3,Qh4,Ne4,Nd4,Bxd4,exd4,f3,d3,c4,Be5,Rb1,Bd4+,Kh1,Rf5,Qe1', 'Qxh2+,Kxh2,Rh5+,Qh4,Rxh4#', 'https://lichess.org/training/um1df');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UM35W', 'Classical', 'mhmdk', 1917, 'fideluto', 1826, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,cxd5,Nxd5,Bc4,e6,Nf3,Nxc3,bxc3,Be7,O-O,O-O,Bb3,Bf6,Re1,Bd7,Qd3,Ne7,h4,Qa5,Ne5,Ba4,Bg5,Nd5,Bxd5,Qxd5,Bxf6,gxf6,Ng4,Kg7,Re3,f5,Ne5,f6,Nf3,Bb5,Qd2,f4,Ree1,Qf5,d5,Rad8,d6,Qg4,Re4,e5,Nxe5,fxe5,Rxe5,Bc6', 'Rg5+,Qxg5,hxg5', 'https://lichess.org/training/UM35W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uM4rv', 'Rapid', 'Legend3938', 1642, 'Mewza1', 1700, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Bc4,Bg4,f3,Bf5,Nc3,Nbd7,Bb5,a6,Ba4,b5,Bb3,Nb6,Nge2,Nbxd5,Nxd5,Nxd5,O-O,e6,a3,Bc5+,d4,Bb6,c3,O-O,Ng3,Bg6,Ne4,Nf6,Bg5,Bxe4,fxe4,e5,Bxf6,gxf6,Qg4+,Kh8,Rf3,Rg8,Qh4,f5,Qxd8,Raxd8,Rxf5,exd4,cxd4,Rxd4,Kh1,Rd2,Bxf7,Rgxg2,Rh5,Rxb2,e5,Kg7,e6,Ra2,Re1,Ba5,Rf1,Rge2,Rg1+,Kf6,Rxh7,Bb6,Rf1+,Ke7,Bh5+,Kxe6,Bxe2,Rxe2,Rh6+,Kd5,Rd1+,Kc4,Rh4+,Kb3,Rh3+,Kc2,Rdd3', 'Re1+,Kg2,Rg1+,Kf3,Kxd3', 'https://lichess.org/training/uM4rv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UM7ez', 'Rapid', 'ltl', 1952, 'Murphy2001', 1945, 'd4,d5,h3,Nf6,Nf3,Nc6,Bf4,e6,e3,Bd6,Ne5,Nd7,Nxc6,bxc6,Bxd6,cxd6,Nd2,O-O,Bd3,Qb6,b3,c5,c3,Ba6,Nf3,Bxd3,Qxd3,cxd4,exd4,Rac8,O-O,Rc6,Ng5,Nf6,f4,h6,Nf3,Rfc8,Rfc1,Qa6,Qxa6,Rxa6,Nh4,Ne4,c4,dxc4,bxc4,Ng3,Kf2,Ne4+,Ke3,Nf6,f5,e5,dxe5,Ra3+,Kd4,dxe5+,Kxe5,Re8+,Kd6,Ne4+,Kd7,Rd3+,Kxe8', 'Nf6+,Ke7,Rd7#', 'https://lichess.org/training/UM7ez');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('um85s', 'Rapid', 'Konstantin_Smirnov', 2086, 'ph62', 2115, 'e4,e6,d4,d5,e5,c5,Bb5+,Nc6,Nf3,cxd4,Nxd4,Bd7,Bxc6,bxc6,O-O,Ne7,Bg5,h6,Bh4,Qb6,b3,Ng6,Bg3,Bc5,Nf3,O-O,Nc3,Bb4,Na4,Qc7,c3,Be7,h3,c5,Nb2,a5,a4,Rab8,Nd3,c4,bxc4,Qxc4,Qc2,Rb3,Rfc1,Rc8,Nd2,Qxc3,Nxb3', 'Qxc2,Rxc2,Rxc2', 'https://lichess.org/training/um85s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uM9jl', 'Rapid', 'andolo', 1758, 'iDestiny', 1726, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,a3,O-O,Bg5,h6,Bh4,d5,Bxf6,dxe4,Bxg7,exf3,Bxh6,Bg4,g3,Re8,h3,Bh5,g4,Bg6,Qxf3,Nd4,Qg3,Bh4,Qg2,Nxb3,cxb3,Qxd3,Nd2,e4,Be3,Rad8,Rc1,c5,Rc3,Qd5,Rxc5,Qxd2+,Bxd2,e3,Bxe3', 'Rxe3+,Kf1,Rd1#', 'https://lichess.org/training/uM9jl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UM9LO', 'Blitz', 'Midnats_Luskeren', 1905, 'yang_lu', 1882, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Bg4,Be2,Nc6,d5,Na5,b4,Bxf3,gxf3,Nxc4,Bxc4,O-O,Be3,Nh5,Rc1,a6,Bd4,b5,Bxg7,Kxg7,Be2,Nf4,Qd2,e5,dxe6,fxe6,O-O', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/UM9LO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uma0O', 'Rapid', 'Alexorio', 2295, 'HomeRoome', 2277, 'e4,e6,d4,d5,Nd2,c5,exd5,Qxd5,Ngf3,cxd4,Bc4,Qd6,O-O,Nf6,Nb3,Nc6,Nbxd4,Nxd4,Nxd4,a6,b3,Qc7,Bb2,Be7,Re1,O-O,Qf3,Bd7,Nf5,Bc6,Nxe7+,Qxe7,Bxf6,Qxf6,Qxf6,gxf6,Rad1,b5,Bf1,Kg7,c4,bxc4,Bxc4,Rfc8,f3,a5,Kf2,a4,Rd6,axb3,axb3,Rc7,Rc1,Bd5,Bxd5', 'Ra2+,Kg3,Rxc1', 'https://lichess.org/training/uma0O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UMAqF', 'Rapid', 'YGL63', 2099, 'Loulou12345668966', 2070, 'e4,e5,c4,Nf6,Nc3,Nc6,g3,Bb4,Nge2,d6,h3,O-O,Bg2,Be6,d3,Qd7,a3,Ba5,b4,Bb6,Bb2,Nd4,Nd5,Bxd5,cxd5,Rac8,O-O,c6,dxc6,Rxc6,Nxd4,Bxd4,Bxd4,exd4,Qa4,Ra6,Qxd7,Nxd7,a4,Ne5,Rfd1,Rc8,f4,Ng6,a5,Rac6,b5,Rc2,h4,Rb2,h5,Rcc2,Bf1,Nf8,Rdb1,Ne6,Rxb2,Rxb2,Rc1,Nc5,e5,b6,axb6,axb6,exd6,Rxb5,Bg2,Kf8,Be4,h6,Bc6,Rb3,Ra1,f6,Ra8+,Kf7,Be8+,Ke6,Rd8,Rxd3,Kh2,Ra3,Bg6,d3,g4,d2,Bf5+,Kf7,Bc2,Rd3,Bd1,Ne4,Rd7+,Ke6', 'Re7+,Kd5,d7', 'https://lichess.org/training/UMAqF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UmaqZ', 'Rapid', 'Isatis34', 2053, 'sito1963', 1867, 'e4,e5,Nf3,Nc6,Bb5,Qf6,Nc3,Bc5,Nd5,Qd6,O-O,Nge7,Nc3,Qf6,d3,h6,Be3,Qd6,Bxc5,Qxc5,Ba4,a6,Nh4,O-O,a3,Nd4,Nf3,b5,Bb3,Nxb3,cxb3,d6,Rc1,Qb6,h3,Ng6,b4,Be6,Qc2,Rac8,Rfd1,Nf4,Ne2,Nxe2+,Qxe2,f5,d4,fxe4,Qxe4,Bf5,Qd5+,Kh8,dxe5,dxe5,Nxe5,Qf6,Rc6,Qg5,Nf7+,Rxf7,Qxf7,Bxh3,Qf3,Bg4,Rd5', 'Bxf3,Rxg5,Bxc6', 'https://lichess.org/training/UmaqZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UmB1r', 'Rapid', 'sodel', 2228, 'Volodya51', 2011, 'e4,d6,d4,Nf6,Nc3,a6,Be3,b5,f3,Bb7,Qd2,Nbd7,O-O-O,e6,g4,Be7,h4,O-O,h5,b4,Nce2,c5,g5,Ne8,g6,cxd4,Nxd4,d5,gxf7+,Rxf7,Nxe6,Qa5,Kb1,dxe4,Qxd7,b3,cxb3,Bf6,Qd2,Qxd2,Rxd2,exf3,Bc4,Kh8,Bf2,Re7,Nh3,Be4+,Ka1,Nc7,Nhf4,Nxe6,Nxe6,Bf5,Nd4,Bg4,h6,Bg5,hxg7+,Kxg7,Rdd1,h5,Rhg1,Kf6,Nc6,Rc7,Rd6+,Kf5,Bg3,Bf4,Bd3+,Kg5,Rd5+,Kf6,Bxf4,Rxc6,Be5+,Ke6,Bc4,Kf5,Bg3+,Kg6,a4,Re8,Rc1,Rf6,Bf2,Re2,Bxe2,fxe2,Be1,Bf3,Rd3,Kg5,Rcc3,Kg4,Rd4+,Kh3,Rh4+,Kg2,Ka2,Bg4,Rc1,Rf1,b4,Rf4,Ka3,Rf3+,Ka2,Rf4,Bc3', 'Be6+,b3,Rxh4', 'https://lichess.org/training/UmB1r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UMBDb', 'Blitz', 'mehmetslcn', 1697, 'ehapattia', 2013, 'e4,e6,Nf3,Ne7,d4,Ng6,Nc3,Be7,Bc4,O-O,e5,d5,Bd3,c5,Ne2,c4,Bxg6,fxg6,c3,g5,Ng3,g4,Nd2,Bg5,O-O,Nc6,Nb1,Bd7,Bxg5,Qxg5,Nd2,Ne7,b3,Nf5,Nxf5,exf5,bxc4,f4,cxd5,f3,e6,Be8,g3,Qh5,Kh1,Qh3,Rg1,Rc8,d6,Bb5,Qb3,Bc4,Nxc4,b6,Ne5,Rf5,e7+,Kh8,d7', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/UMBDb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('umBVr', 'Classical', 'youngmoney2299', 2266, 'DEP44', 2291, 'd4,Nc6,d5,Ne5,e4,e6,f4,Ng6,Nf3,Bc5,Nc3,a6,h4,h5,Bd3,exd5,exd5,d6,Ne4,Bb6,Qe2,Qe7,Bd2,Bg4,O-O-O,O-O-O,Rde1,Nh6,Bxa6,bxa6,Qxa6+,Kb8,Nc5,Bxc5,Rxe7,Nxe7,b4,Ba7,Re1,Nxd5,c4,Nb6,Nd4,Bd7,b5,Ka8,Nc6,Bxc6,bxc6,Rb8,Re7,Rhc8,a4,Nf5,Rxf7,Nd4,a5,Nb3+,Kd1,Nc5,axb6,Nxa6,b7+,Rxb7,cxb7+,Kxb7,Rxg7,Bd4,Rg5,Rh8,Ke2,Nc5,Rg6,Re8+,Kf3,Ne4,Be3,Bxe3,Kxe3,Ng3+,Kf3,Nf5,Rg5,Nd4+,Kf2,Re2+,Kf1,Re4,g3,Ne2,Kf2,Nd4,Rxh5,Re2+,Kf1,Rc2,f5,Rc3,Kg2,Rc2+,Kh3,Rf2,g4,Kc6,Kg3,Rf3+,Kg2,Rf4,Rg5,Nf3', 'Kg3,Nxg5,Kxf4', 'https://lichess.org/training/umBVr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UmCgx', 'Rapid', 'mqj', 1813, 'pars1903', 1827, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,b6,Bg5,Bb7,e3,Be7,Bd3,O-O,O-O,h6,Bxf6,Bxf6,Re1,c5,cxd5,exd5,a3,Nc6,Qc2,Re8,dxc5,bxc5,Bb5,Rc8,Rad1,d4,Ne4,a6,Bxc6,Bxc6,Nxf6+,Qxf6,exd4,Bxf3,Rxe8+,Rxe8,gxf3,Qxf3,dxc5,g6,Qd3', 'Re1+,Rxe1,Qxd3', 'https://lichess.org/training/UmCgx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UMcSq', 'Rapid', 'Trikolino3', 1830, 'MarioGrazalema', 1824, 'e4,e5,f4,d5,exd5,exf4,Nf3,Qxd5,Nc3,Qe6+,Be2,g5,d4,g4,O-O,gxf3,Bxf3,Qb6,Bxf4,Nf6,Re1+,Be7,Bg5,Be6,Bd5,Nxd5', 'Nxd5,Bxd5,Rxe7+', 'https://lichess.org/training/UMcSq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('umcX3', 'Rapid', 'Babola73', 1948, 'Feodor5', 1944, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Bc4,Nf6,d3,a5,a4,e6,Qe2,Bd6,Be3,Qd7,O-O-O,b5,Bb3,Na6,Nh4,Nc5,Bxc5,Bxc5,Ngf5,O-O,d4,Bb4,Ng6,Rfd8,c3,Bd6,Nxd6,Qxd6,Ne5,bxa4,Bxa4,c5,dxc5,Qxc5,Rxd8+,Rxd8,Re1,Rd5,Bb3,Rd8,Nxf7,Kxf7', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/umcX3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('umf1C', 'Blitz', 'CARICOACOSTA', 1878, 'jarek6363', 1873, 'e4,e5,d4,Nc6,c3,Nf6,Bg5,Be7,Bxf6,Bxf6,d5,Ne7,Bc4,d6,Nf3,Ng6,Nbd2,Bg4,Qb3,O-O,Qxb7,Rb8,Qxa7,Rxb2,O-O,Qd7,Rab1,Rfb8,Rxb2,Rxb2,Rb1,Rxb1+,Nxb1,Bxf3,g3,Bxe4,Nd2,Bf5,Qb8+,Qd8,Qb7,h6,a4,Qc8,Qa7,c6,dxc6,Qxc6', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/umf1C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('umFdy', 'Blitz', 'EL_TARUGO', 2262, 'FM Manudoulos', 2322, 'd4,d5,e3,e6,Nf3,Nf6,c4,c5,Nc3,Nc6,cxd5,Nxd5,Bb5,cxd4,exd4,Bb4,Bd2,Bd7,O-O,O-O,Nxd5,exd5', 'Bxc6,Bxc6,Bxb4', 'https://lichess.org/training/umFdy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('umfRo', 'Blitz', 'Trylanterino', 1683, 'gonda', 1724, 'Nf3,d5,g3,e6,Bg2,c6,O-O,Nf6,Re1,Be7,d3,O-O,Nbd2,Nbd7,b3,b6,Bb2,Bb7,c4,dxc4,dxc4,c5,Qc2,h6,Rad1,Qc7,Qc3,Rac8,e3,Rfd8,Re2,Bf8,e4,a6,a4,Bc6,e5,Ne8,Ne1,Bxg2,Nxg2,Qc6,Ne4,b5,cxb5,axb5,a5,c4,b4,Be7,Nd6,Bxd6,exd6,Ndf6,Red2,Rxd6,Rxd6,Nxd6,Nf4,Nde4,Qd4,Qc7,f3,Ng5,Kg2,Qc6,Qe3,Qb7,Bxf6,gxf6,Nh5,Qe7,Qd4,e5,Qb6,Qxb4,Nxf6+,Kh8,Rd8+,Rxd8,Qxd8+,Kg7,Nh5+,Kg6', 'Qf6+,Kxh5,g4+,Kh4,Qxh6#', 'https://lichess.org/training/umfRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uMGtI', 'Rapid', 'Sergey4684', 1689, 'baan81', 1650, 'e4,Nf6,e5,Nd5,Bc4,Nb6,Bb3,d6,exd6,cxd6,h3,Nc6,Nf3,Na5,O-O,Nxb3,axb3,e6,d3,Be7,Be3,Nd5,Rxa7', 'Nxe3,Rxa8,Nxd1', 'https://lichess.org/training/uMGtI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uMiaX', 'Rapid', 'fervasco', 1818, 'okaywhatstheideahere', 1755, 'c4,g6,Nc3,Bg7,g3,e5,Bg2,Nc6,e3,Nf6,Nge2,O-O,O-O,b6,d4,exd4,exd4,Bb7,d5,Na5,b3,Qe7,Bd2,Rae8,Rc1,c6,Re1,Qc5,Be3,Qe7,d6,Qe6,Nf4,Qf5,Bh3,Qe5,Bxb6', 'Qxe1+,Qxe1,Rxe1+,Rxe1,axb6', 'https://lichess.org/training/uMiaX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Umja0', 'Rapid', 'cujaho', 1695, 'ChessPlayer711867', 1774, 'e4,d6,Nf3,Bg4,d4,e6,Bb5+,c6,Ba4,Be7,Qd3,Nf6,Be3,d5,e5,Nfd7,Nbd2,O-O,c3,b5,Bc2', 'Bf5,Qe2,Bxc2', 'https://lichess.org/training/Umja0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UmL8i', 'Rapid', 'MORALETVM', 1837, 'YHYA83', 1835, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Nbd7,Bg5,Bb4,a3,Bxc3+,bxc3,O-O,Be2,h6,Bh4,Qe8,O-O,Ne4,Qd3,c5,dxc5,Ndxc5,Qe3,f5,Rfe1,f4,Qd4,Qc6,Ne5,Qc7,Qxd5+,Be6,Qd4,g5,Ng6,Rf6,Nxf4,gxh4', 'Nxe6,Rxe6,Bc4', 'https://lichess.org/training/UmL8i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Umlaq', 'Rapid', 'yolksac', 1757, 'lollolollo', 1848, 'e4,e5,Nf3,Nc6,Be2,Nf6,d3,Bc5,Bg5,h6,Bh4,g5,Bg3,d6,Nfd2,Be6,a3,a5,c3,O-O,Nb3,Ba7,f3,a4,N3d2,Nh5,Bf1,Nf4,Bf2,Bxf2+,Kxf2,d5,g3,Nh3+,Kg2,dxe4,dxe4,f5,Bc4,Bxc4,Nxc4,g4,Nbd2,Ng5,fxg4,fxe4,Ne3,Nf3,Nxf3,exf3+,Kf2,e4,Qd5+,Kh8,Rad1,Qxd5,Rxd5,Rad8,Rhd1,Rxd5,Rxd5,Rf7,Nf5,Kh7,Ne3,Kg6,h4,Re7,h5+,Kg7,Nf5+,Kf7,Nxe7,Kxe7,Rd1,Kf6,Ke3,Kg5,Kxe4,Kxg4,Rd7,f2,Rf7,Kxg3,Ke3,Ne5,Ke2,Ng4,Rg7,Kh4,Kf1,Kxh5,Rxc7,Kh4,Rc4', 'Kg3,Rxg4+,Kxg4', 'https://lichess.org/training/Umlaq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('umMpb', 'Blitz', 'Ox41414141', 2062, 'StojanovicG52', 2019, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,Ne7,Bc4,Nc6,Qd3,Bb4+,c3,Ba5,Bf4,O-O,Nd2,d6,b4,Bb6,a4,a6,O-O,Be6,b5,axb5,Bxb5,Qf6,Bg3,Ne5,Bxe5,Qxe5,Nf3,Qc5,Nd4,c6,Nxe6,fxe6,Bc4,d5,exd5,exd5,Bb3,Rxf2,Rxf2,Qxf2+,Kh1,Rf8,Rd1,Re8,Rf1,Re1,Bxd5+,Kh8,Bc4', 'Qg1+,Rxg1,Rxg1#', 'https://lichess.org/training/umMpb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UMMPO', 'Rapid', 'doradense', 1778, 'sleinb', 1618, 'e4,e5,Bc4,d6,a3,Nf6,d3,Nc6,c3,Bd7,Bg5,Be7,Bxf6,Bxf6,Nf3,Qe7,Nbd2,O-O-O,O-O,g5,Bd5,g4,Ne1,h5,Bxc6,Bxc6,b4,h4,Qxg4+,Bd7,Qf3,Rdg8,h3,Be6,Nc4,Qd7,Qxf6,Bxh3,Qf3,Bg4,Qe3,Kb8,a4,h3,g3,h2+,Kh1,Bh3,Nf3,Bxf1,Rxf1,Qh3,Ncd2,f6,Ra1,Rh7,Nf1', 'Qg2+,Kxg2,h1=Q#', 'https://lichess.org/training/UMMPO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uMn3A', 'Rapid', 'fin16_ctbm-sm', 1861, 'CuteTeenyCold', 1921, 'e4,e6,Nf3,d5,exd5,exd5,Qe2+,Be7,d4,Nf6,Nc3,O-O,g3,Re8,Bg2,Ne4,O-O,Nxc3,bxc3,Bb4,Qd3,Ba5,Ng5,g6,Bd2,Bf5,Qb5,Nc6,Bxd5,Rf8,Bxc6,bxc6,Qxa5,f6,Nf3,Bh3,Rfe1,Rb8,Qxa7,Qd5,Re3,Rbe8,Qc5,Rxe3,Qxd5+,cxd5,Bxe3,Rb8,Nd2,Rb2,f3,Bf5,Rb1,Rxc2,Rb8+,Kg7,Nb3,Rxc3,Bf4,Bh3,g4', 'Rxf3,Nd2,Rxf4', 'https://lichess.org/training/uMn3A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('umO9k', 'Rapid', 'Peter46', 1771, 'imlizardking', 1760, 'f4,c5,Nf3,e6,g3,Nf6,Bg2,d5,O-O,Be7,d3,O-O,c3,Nc6,Qc2,d4,e4,dxe3,Bxe3,Nd5,Bf2,b6,Nbd2,Bb7,Rfe1,Qc7,a3,Rac8,Nc4,Bf6,Nfe5,Nxe5,fxe5,Be7,Bf1,Qc6,Bg2,Qc7,Qa4,a6,Qb3,b5,Ne3,Nxe3,Bxb7,Qxb7,Bxe3,Rfd8,d4,cxd4,cxd4,Rc4,Rac1,Rdc8,Rxc4,Rxc4,Rc1,Rxc1+,Bxc1,Qe4,Qe3,Qc6,Kf2,h6,h4,b4,axb4,Bxb4,Kg1,a5,Bd2,Qc2,Bxb4,axb4,Qf2,Qd1+,Kg2,b3,Qf3,Qc2+,Qf2,Kf8,Kf3,Qd1+,Qe2,Qh1+,Ke3,Qc1+,Kd3,Qb1+,Kc4', 'Qc2+,Qxc2,bxc2', 'https://lichess.org/training/umO9k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UMOIN', 'Rapid', 'bogoljub', 1815, 'LeBlaBlaZ', 1814, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,h6,Bh4,b6,a3,dxc4,Bxc4,Bb7,O-O,Nbd7,Rc1,c5,dxc5,Nxc5,Qe2,Nh7,Bg3,Ng5,b4,Nxf3+,gxf3,Nd7,Bb3,Rc8,Rfd1,Bf6,Ne4,Rxc1,Rxc1,Be5,Qb5,Bxg3,hxg3,Nf6,Rd1,Qe8,Qxe8,Nxe8,Rd7,Bxe4,fxe4,Nf6,Rxa7,Nxe4,Rb7,Nd2,Bd1,Rc8,Rd7,Nc4,a4,Ne5,Rd6,Rc1,Kg2,Nc4,Rc6', 'Nxe3+,Kf3,Rxc6', 'https://lichess.org/training/UMOIN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UmoYt', 'Blitz', 'Ryman', 2132, 'FM Josip_buje', 2368, 'c4,c6,Nc3,d5,d4,Nf6,Nf3,Bf5,g3,e6,Bg2,Nbd7,cxd5,exd5,O-O,Bd6,Bf4,Bxf4,gxf4,O-O,e3,Bg4,h3,Bh5,Qb3,Rb8,Ne5,Qe7,Rac1,Ne8,Na4,Nd6,Qa3,f6,Nxc6,bxc6,Rxc6,Nf5,Rc7,Qxa3,bxa3,Nb6,Nxb6,axb6,Bxd5+,Bf7,Bxf7+,Rxf7,Rxf7,Kxf7,Rc1,Rb7,a4,Ra7,Rc4,Ke7,Rb4,Ra6,e4,Nh4,Kh2,Nf3+,Kg3,Ne1,f3,Kd7,d5,Nd3,Rc4,Nc5,Rb4,Nxa4,e5,Nc3,d6,Nxa2,Rc4,Ra7,Kg4,b5,Rc5,b4,Kf5,Rb7,Rd5,Kc6,e6,Kxd5', 'd7,Nc3,d8=Q+', 'https://lichess.org/training/UmoYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UmpM4', 'Rapid', 'crissam', 1981, 'patmat26', 2055, 'e4,e6,d4,d5,Bd3,c5,c3,Nc6,Nf3,Qb6,Bc2,cxd4,cxd4,Nge7,O-O,g6,Nc3,Bg7,Na4,Qc7,Be3,b6,Rc1,O-O,Qd2,Bd7,Bf4,Qd8,e5,Rc8,Nc3,a6,Ne2,f6,exf6,Bxf6,Bh6,Bg7,Bg5,Qe8,Nf4,h6,Bxe7,Nxe7,Ne5,g5,Nfg6,Nxg6,Bxg6,Qe7,Qd3,Rxc1', 'Bh7+,Kh8,Ng6+', 'https://lichess.org/training/UmpM4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UMpug', 'Rapid', 'Dark_Lynx', 1786, 'oblomovluk', 1719, 'd4,d5,c4,e6,g3,Nf6,Nf3,Bd6,Bg2,O-O,O-O,c6,e3,Re8,cxd5,cxd5,Nc3,a6,Re1,Nc6,Nd2,Bd7,e4,Qc8,exd5,exd5,Rxe8+,Nxe8,Nb3,Nf6,Nxd5,Nxd5,Bxd5,Bh3,Qf3,Qe8,Bd2,Rd8,Re1,Qd7,Nc5,Bxc5,dxc5,h6,Bxc6,Qxd2,Rb1,bxc6,g4,Qc2,Re1,Rd3', 'Re8+,Kh7,Qf5+,g6,Qxf7#', 'https://lichess.org/training/UMpug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UMPvF', 'Blitz', 'seanryan471', 1639, 'mukemmel', 1613, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,h6,Nc3,O-O,Nd5,d6,h3,Na5,Nxf6+,Qxf6,Bb3,Nxb3,axb3,a6,Be3,Ba7,Qd2,c6,Nh2,d5,f4,dxe4,fxe5,Qxe5,dxe4,Qxe4,Rae1,Qg6,Kh1,Be6,Nf3,Rfd8,Qc3,Rd7,Ne5,Qh5,Nxd7,Bxd7,Bxa7,Rxa7,Re7,Be6,Qb4,Bd5,Kg1,Qg5,Rf2,Qc1+,Kh2,Qg5,Rxb7,Rxb7,Qxb7,Qe5+,Kg1,Qe1+,Rf1,Qe3+,Kh1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/UMPvF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('umqQh', 'Rapid', 'abdull3h', 1657, 'King_trapper', 1672, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,d4,O-O,dxe5,Nxe4,Re1,Nc5,exd6,Bxd6,b3,Ne4,Rxe4', 'Bxh2+,Kxh2,Qxd1,Nbd2,Qxc2', 'https://lichess.org/training/umqQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UmRil', 'Rapid', 'DenisPantukhin', 2144, 'YuriKing', 2148, 'e4,c6,d3,d5,Qe2,dxe4,dxe4,e5,g3,Be6,Be3,h5,h4,Nf6,Nd2,Ng4,Nh3,Nxe3,Qxe3,f6,Bc4,Bxc4,Nxc4,b5,Rd1,Qc7,Nd2,Nd7,Nb3,a5,O-O,a4,Nc1,Qb6,Qf3,Nc5,Qf5,Be7,Qg6+,Kf8,Kh2,Ne6,c3,Rd8,Qf5,c5,f4,exf4,Rxd8+,Bxd8,Nxf4,Nxf4,Rxf4,Kf7,Qd5+,Kg6,Ne2,Bc7,e5,Bxe5,Qe4+,Kh6,Rf5,g6,Rxe5,fxe5,Qxe5,Rf8,Nf4,Qb8', 'Qg5+,Kh7,Qxg6+', 'https://lichess.org/training/UmRil');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('umsJ3', 'Blitz', 'maistor_tri4ko', 1808, 'mikaelpras', 1832, 'e4,c5,Nf3,Nc6,Bc4,Nf6,d3,e6,O-O,d5,exd5,Nxd5,Re1,Be7,Nc3,Nxc3,bxc3,a6,a4,O-O,Be3,Bf6,d4,Qa5,Qd2,Rd8,Bg5,Bxg5,Qxg5,Qxc3,d5,exd5', 'Qxd8+,Nxd8,Re8#', 'https://lichess.org/training/umsJ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Umso0', 'Rapid', 'Anti_Idealiste', 1845, 'pero1504', 1963, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,c4,Bb4+,Nc3,Qb6,Be3,Bxc3+,bxc3,Qd8,Nxc6,bxc6,Qd6,Qe7,Bc5,Qxd6,Bxd6,Ne7,c5,f6,Bd3,Kf7,O-O,a5,a4,Ba6,Bxa6,Rxa6,Rab1,Ra7,g4,Nc8,Rb8,Re8,e5', 'Nxd6,Rxe8,Nxe8', 'https://lichess.org/training/Umso0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UmtbV', 'Rapid', 'dedbobo', 1938, 'ChessKixot', 1991, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d4,Bd6,h3,O-O,Nf3,Re8+,Be3,c5,O-O,c4,Ba4,Nc6,c3,a6,Bc2,Be6,Bg5,h6,Bxf6,Qxf6,Nbd2,b5,a3,a5,Ne5,Nxe5,dxe5,Qxe5,Nf3,Qf4,Qd4,Qxd4,Nxd4,b4,axb4,axb4,Rxa8,Rxa8,Nxe6,fxe6,cxb4,Bxb4,f4,Ra2,Rb1,c3,bxc3', 'Bc5+,Kf1,Rxc2', 'https://lichess.org/training/UmtbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Umua8', 'Classical', 'fervasco', 1711, 'mad88max', 1939, 'c4,Nf6,d4,g6,Nc3,Bg7,e4,O-O,e5,Ne8,Nf3,d6,Bf4,Bg4,Be2,dxe5,Nxe5,Bxe2,Qxe2,a6,O-O,Qxd4,Bg3,Qb6,Nd5,Qa5,Nxe7+,Kh8,Rfe1,Nd6,a3,Nc6,N7xc6,bxc6,Nxc6,Qc5,Ne5,Rae8,Nd7,Rxe2,Nxc5,Rxb2,Rad1,Nxc4,Bxc7,Nxa3,Nxa6,Nb5,h3,Nxc7,Nxc7,h5,Rd7,Rc2,Ree7,Kg8,Nd5,Rd2,Re1,Ra2,Rb1,Bd4', 'Ne7+,Kg7,Rxd4', 'https://lichess.org/training/Umua8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Umvbf', 'Rapid', 'A_Andrade', 1994, 'elkadice', 2042, 'Nf3,c5,e4,Nc6,Nc3,e6,Bc4,Nge7,d3,d5,exd5,exd5,Bb5,d4,Ne4,f5,Nxc5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/Umvbf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uMvtf', 'Blitz', 'Art-Vega', 2213, 'benschess', 2155, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bc5,e3,f6,exf6,Qxf6,Qd2,d6,h3,Nge5,Nxe5,Nxe5,Nc3,Be6,Nd5,Bxd5,cxd5,O-O,b4,Bb6,Rc1,a5,a3,axb4,axb4,Ra4,Be2,Rfa8,O-O,Ra2,Rc2,R2a4,Bg3,Ng6,Bg4,h6,Bd7,Ra3,Rc4,Qg5,Rg4,Qf6,Qc2,Ne5,Bxe5,Qxe5,Be6+,Kh8,Qg6,Ra1,Bf5,Rxf1+,Kxf1,Ra1+,Ke2,Ra2+,Kf3', 'Rxf2+,Kxf2,Qxe3+,Kf1,Qf2#', 'https://lichess.org/training/uMvtf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uMXIT', 'Blitz', 'The_king_Egyptian', 2247, 'WFM Joqueen90', 2109, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,d5,e5,Nh6,h3,O-O,Nbd2,Bf5,Be2,Nc6,O-O,Be4,Nb3,Nf5,Nh2,Nb4,Bd2,Nc2,Rc1,Ncxd4,f3,Nxe2+,Qxe2,Ng3,Qf2,Nxf1,Rxf1,Bf5,g4,Be6,f4,Qb6,Be3,Qb4,f5,Bd7,f6,exf6,exf6,Bh8,Bc5,Qa4,Be7,Qxa2,Nc5,Bc6,Qd2,Rfe8,Qh6,d4,Nf3,Qxb2,Rf2,Qb1+,Kh2,d3,Nxd3,Qxd3,Ng5,Rxe7', 'Qxh7+,Kf8,Qxh8#', 'https://lichess.org/training/uMXIT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uMyF2', 'Rapid', 'Ahmad19791979', 1917, 'Reorks', 1961, 'd4,c6,g3,d5,Bg2,Nf6,Nf3,h6,Bf4,Bf5,c3,e6,Qb3,Qb6,Qxb6,axb6,Nbd2,Be7,O-O,O-O,Rfe1,Nbd7,a4,c5,b4,cxb4,cxb4,Rac8,b5,Rc2,Red1,Rfc8,Ne5,Ne4,Nxe4,dxe4,Nxd7,Rxe2,Nxb6,Rcc2,Be3,Bg5,Bf1,Rxe3,fxe3,Bxe3+,Kh1,Bf2,Rac1,e3,Rxc2,Bxc2,Rc1,Be4+,Bg2,Bd3,Bf3,e2,Bxe2', 'Be4+,Bf3,Bxf3#', 'https://lichess.org/training/uMyF2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UmyXH', 'Rapid', 'dafuqamidoing', 1648, 'chocori', 1602, 'd4,Nf6,Bf4,c5,e3,cxd4,exd4,d5,Nf3,Nc6,c3,Bf5,Bd3,Bxd3,Qxd3,e6,Na3,a6,c4,dxc4,Nxc4,Nd5,Bd2,Ndb4,Bxb4,Nxb4,Qd1,Qd5,O-O,Qxc4,Ne5,Qc7,Qf3,Bd6,Rac1,Qe7,Nc4,Nxa2,Nxd6+,Qxd6,Rc5,O-O,Rh5,Qxd4,Qh3,h6,g4,f6,Kh1,Nb4,g5,fxg5,Qxe6+,Kh7,Rg1,Qf4,h4,gxh4', 'Qg6+,Kh8,Qxg7#', 'https://lichess.org/training/UmyXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UMyYL', 'Rapid', 'vahid_radaeii', 1621, 'Rishat_Gubaydullin', 1603, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nc6,Nf3,Nf6,Nc3,g6,Be3,Bg7,Bd3,O-O,h4,Bg4,Be2,Bh5,Ng5,a6,Bxh5,Nxh5,g4,Nf6,h5,Qd7,hxg6,hxg6,f3,e5,Qd2,exd4,Nd5,dxe3,Nxf6+,Bxf6,Qxe3,Bd4,Qe2,Ne5,Qh2,Kg7,Nh7,Rh8', 'Qh6+,Kg8,Nf6#', 'https://lichess.org/training/UMyYL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('umzKO', 'Rapid', 'pautinnic', 2076, 'MazarikO', 2134, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,Be2,d5,h3,c5,c3,Nc6,Nbd2,Re8,O-O,cxd4,exd4,Nd7,Re1,e5,dxe5,Ndxe5,Nxe5,Nxe5,Bf1,Nc4,Qb3,Nxd2,Bxd2,Rxe1,Rxe1,b6,Be3,Bb7,Rd1,Qc7,Bd4,Bf8,g3,Re8,Bg2,Qc8,Kh2,Re2,Be3,Bc5,Bf1,Bxe3,Bxe2,Bxf2,Rf1,Qc5,Qd1,Qe3,Qd3', 'Bxg3+,Kg2,d4+', 'https://lichess.org/training/umzKO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('umzyc', 'Rapid', 'ElManio', 1798, 'Fedot_Yri', 1815, 'e4,d6,d4,e6,Nc3,c6,Nf3,Be7,Bd3,Nf6,Bf4,O-O,O-O,h6,e5,Nh7,Re1,Bg5,Qd2,Bxf4,Qxf4,d5,g4,Ng5,h4', 'Nh3+,Kg2,Nxf4+', 'https://lichess.org/training/umzyc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UN2Ho', 'Rapid', 'AndresDL99', 2084, 'mekanick', 2004, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,e5,Nf3,Nc6,c4,d6,Bg5,Be7,Nc3,O-O,O-O,h6,Bxf6,Bxf6,h3,Be6,Rc1,Nd4,Nxd4,exd4,Ne2,Qb6,b3,a5,Bc2,a4,Qd3,axb3,axb3,Qc5', 'e5,g6,exf6', 'https://lichess.org/training/UN2Ho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UN3dy', 'Classical', 'hamidrezacleveraban', 1848, 'LyricalGeppetto', 1937, 'd4,Nf6,Nf3,d5,Nbd2,Bf5,e3,e6,c4,c6,cxd5,cxd5,b3,Bd6,Nh4,Bg6,Nxg6,hxg6,Nf3,Qc7,Bb5+,Nc6,g3', 'Qa5+,Kf1,Qxb5+', 'https://lichess.org/training/UN3dy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Un3Zj', 'Rapid', 'Lempo149', 1842, 'sahmat54', 1850, 'd4,d5,c4,c5,e3,e6,Nc3,cxd4,exd4,Nf6,cxd5,Nxd5,Nf3,Nxc3,bxc3,Nc6,Bb5,a6,Bxc6+,bxc6,Ne5,Bb7,Rb1,Rb8,Qa4,Qc7,Nxc6,Bxc6,Rxb8+,Qxb8,Qxc6+,Kd8,O-O,Bd6,f4,Ke7,Qxa6,Rc8,Qd3,g6,c4,Qa7,a3,Kf8,c5,Be7,Bb2,Bf6,Qb5,Rb8,Qe2,Qd7,Qd2', 'Rxb2,Qxb2,Bxd4+,Qxd4,Qxd4+', 'https://lichess.org/training/Un3Zj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('un5W4', 'Rapid', 'Rainbulldozer', 1725, 'julioadriancg', 1770, 'd4,d5,c4,e6,Nf3,Nf6,a3,Nc6,Nc3,Be7,Bf4,O-O,e3,a6,cxd5,Nxd5,Nxd5,Qxd5,Qc2,Qa5+,Qd2', 'Bb4,axb4,Qxa1+', 'https://lichess.org/training/un5W4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('un7Mz', 'Rapid', 'jomanuell', 1705, 'nerthuz', 1682, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Qe7,O-O,d6,Re1,Bd7,c3,h6,Ba4,g5,d4,g4,Nh4,Nxe4,Bxc6,Bxc6,Nf5,Nxf2,Kxf2,Qe6,Qxg4,Rg8,Nxd6+,cxd6,Qxg8,O-O-O,h3,Be7,Qg4,Qxg4,hxg4,Rg8,dxe5,Rxg4,Bxh6,Bh4+,Ke2,Rxg2+,Kd1', 'Bf3+,Kc1,Bxe1', 'https://lichess.org/training/un7Mz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Una1p', 'Rapid', 'TbirdV', 1848, 'regis64', 1900, 'd4,Nf6,c4,e5,d5,Bc5,Nc3,d6,e4,Bg4,Qb3,O-O,h3,Bh5,Be2,Bg6,Bf3,b6,Nge2,Nbd7,O-O,Nh5,Qc2,f5,b4,Bd4,Nxd4,exd4,Ne2,c5,bxc5,bxc5,exf5,Bxf5,Be4,Ne5,Bxf5,Rxf5,Qxf5,Nf6,Bg5,Qf8,Qe6+,Kh8,Bxf6,gxf6,Nf4,Re8,Qf5,Qh6,Nh5,Rf8,Rab1,d3,Rb7,d2,Rxa7,Nxc4,Rb7,Ne5,Rfb1,c4,Rb8,c3,Rxf8+,Qxf8,Qxf6+,Qxf6', 'Rb8+,Qf8,Rxf8#', 'https://lichess.org/training/Una1p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uNaC3', 'Rapid', 'grim_trigger', 2100, 'DurDurALAMAZ', 2082, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,d6,Nc3,Bxf5,exf5,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd5,Qa5+,c3,Bd8,g3,Ne7,Bg2,Nxf5,O-O,O-O,Be4,Ne7,Ne3,Qc7,Qh5,f5,Nxf5,Nxf5,Bxf5,g6,Be6+,Kg7,Qg4,Rf6,Bd5,Be7,Rad1,Raf8,Qe4,Qb6,Rd2,Rb8,Kg2,Qc7,f4,b6,Rdf2,Rbf8,f5,Qc5,c4,b5,b3,a5,Rf3,a4,fxg6,Rxf3,Rxf3,hxg6,Rxf8,Bxf8,cxb5,axb3,Bxb3,Qxb5,Qg4,d5,Qe6,Qe2+,Kh3,Qh5+,Kg2,Qe2+,Kg1', 'Bc5+,Kh1,Qf1#', 'https://lichess.org/training/uNaC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Unahr', 'Rapid', 'geogia', 1924, 'Mosha07', 1833, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,h6,b3,h5,Bb2,O-O-O,c4,Qf5,Nh4,Qg5,Bxg4+,hxg4,g3,Rxd2,Qc1,e5,Bc3,Bb4,Bxd2,Bxd2,Qc2,Nd4,Qe4,f6,f4,gxf3,Nxf3,Nxf3+,Qxf3,Be3+,Kh1,Qh6,Qg2,Qh7,Rad1,e4,Rfe1,Qh6,Re2,f5,Qf1,g6,Rde1,Bc5,Qf4,Qg7,g4,Bd6,Qf2,Bxh2,Qxh2,f4,Rxe4,Rxh2+,Kxh2,g5,Re8+,Kd7,R8e5,Qh7+,Kg2,Qd3', 'Rd5+,Qxd5+,cxd5', 'https://lichess.org/training/Unahr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UNBtX', 'Blitz', 'mishaelnegneg', 1730, 'DavidPha', 1698, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,b5,a3,Bb7,Bd3,e6,O-O,Be7,f4,O-O,Qe1,Nbd7,Qg3,Kh8,f5,e5,Nde2,Nc5,Rad1,Nxd3,cxd3,Rc8,Qh3,Rg8,Ng3,Qd7,Nh5,Nxh5,Qxh5,f6,Rf3,Qe8', 'Qxh7+,Kxh7,Rh3+,Qh5,Rxh5#', 'https://lichess.org/training/UNBtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('unC83', 'Rapid', 'purvatrasiddham', 1701, 'Morphine64', 1669, 'e4,c5,Nf3,d6,Bc4,e6,O-O,a6,d4,b5,Be2,cxd4,Nxd4,Bb7,f3,Nf6,Bg5,Be7,Bxf6,Bxf6,c3,Qb6,Bd3,Nc6,Kh1,Nxd4,cxd4,Bxd4,Nc3,Bf6,Ne2,Bxb2,Rb1,Bf6,a4,b4,Ng3,O-O,Qe2,a5,Bb5,Rac8,Nh5,Bc3,Rfd1,Rc5,Nf4,Be5,Nd3,Rxb5,axb5,Qxb5,Nf4,Qb6,Nd3,Ba6,Qd2,Bc3', 'Qxc3,bxc3,Rxb6', 'https://lichess.org/training/unC83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('unckJ', 'Blitz', 'GM Crest64', 2550, 'FM Lovkay', 2602, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Ne2,d5,a3,Be7,cxd5,exd5,Nf4,c6,Bd3,Na6,O-O,Nc7,b3,Re8,Bb2,Bd6,Qc2,g6,Rae1,Ne6,Nxe6,Bxe6,f3,Qc7,f4,Bd7,Qf2,Bf8,h3,Bg7,Qf3,a5,Kh1,Qb6,Bc2,c5,dxc5,Qxc5,Qf2,Rac8,Bd3,Ne4,Bxe4,dxe4,Rc1,Qb6,Nd5,Qd6,Bxg7,Kxg7,Qb2+,f6,Nc3,Bc6,Rfd1,Qe7,Rd4,Rcd8,Rcd1,Rxd4,Rxd4,Rd8,Rxd8,Qxd8,b4,axb4,axb4,Qd3,b5,Bd7,Qb4,Bxh3,Qe7+,Kh6,Nxe4', 'Qf1+,Kh2,Qxg2#', 'https://lichess.org/training/unckJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uNE0i', 'Blitz', 'zichi', 1830, 'Kochetkov99', 1861, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,Bf5,Bc4,e6,Qe2,Qd4,Nb5,Qc5,a4,Bd6,b4,Qc6,Nc3,h6,Bb5,hxg5,Bxc6+,Nxc6,b5,Nd4,Qd1,e3,Ba3,Nxc2+,Kf1,Bd3+,Kg1,Bxh2+,Rxh2,exf2+,Kxf2,Rxh2,Rc1,Nxa3,Qb3,Nc4,Nb1,Ne5,Rxc7,Nfg4+,Kg3,f5', 'Qxe6+,Kf8,Qe7+,Kg8,Qxg7#', 'https://lichess.org/training/uNE0i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uNF3C', 'Blitz', 'GM Eyesless18', 2723, 'GM Creep30', 2858, 'e4,e5,Nf3,Nc6,Bb5,Bb4,O-O,Nge7,c3,Ba5,d4,exd4,cxd4,d5,Nc3,Bxc3,bxc3,dxe4,Ng5,Bf5,Re1,O-O,Nxe4,Nd5,Qf3,Bxe4,Rxe4,Qd6,Bd2,a6,Bd3,b5,Rae1,Rad8,Qh3,Nf6,R4e2,g6,Bg5,Rde8,Rxe8,Rxe8,Rxe8+,Nxe8,Qc8,Qe6,Qxa6,Nxd4,Qxe6,Nxe6,Be7,c6,Be4,c5,Bc6,N8c7,Bf6,h5,Kf1,b4,cxb4,cxb4,h4,Nc5,Be7,N7e6,Bd5,Kg7,Bxe6,Nxe6,Bxb4,Kf6,Bc3+,Kf5,Ke2,Ke4,f3+,Kd5,g3,Kc4,Bf6,Nc5,Ke3,Ne6,g4,Kd5,a4,Kc4,Be7,Kd5,gxh5,gxh5,f4,f5,Bg5,Kc4,Be7,Nd4,a5,Nc6,a6', 'Nxe7,a7,Nd5+', 'https://lichess.org/training/uNF3C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ung5g', 'Rapid', 'Wispywhisperer', 1910, 'DPM81', 1924, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,d6,c3,Bd7,d4,exd4,cxd4,Ng6,Re1,Be7,Nbd2,O-O,Nf1,Bg4,Be2,Bf6,d5,Bxf3,Bxf3,Nce5,Ng3,Nh4,Be2,Bg5,Bxg5,Qxg5,Rc1,Rac8,Rc3,f5,exf5,Rxf5,Bf3,Rcf8,Nxf5', 'Nexf3+,Qxf3,Nxf3+', 'https://lichess.org/training/ung5g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UNGcB', 'Rapid', 'baovipnb2004', 1634, 'mario84es', 1653, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Bc5,d3,Nf6,c3,d6,h3,Qe7,Be3,Bxe3,fxe3,Be6,Bxe6,Qxe6,Na3,Nd7,Nc4,g5,Qb3,O-O-O,Rac1,g4,hxg4,Qxg4,d4,Rhg8,Rf2,exd4,cxd4,Qxe4,Re2,Qxf3,Rcc2,Qg3,d5,Nce5', 'Nxd6+,Kb8,Qxb7#', 'https://lichess.org/training/UNGcB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uNGi2', 'Rapid', 'Amit614722', 1996, 'NegroHenry', 1933, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Be2,O-O,O-O,Re8,Nd4,Ngxe5,Nc3,Qh4,Nd5,Bxd4,Nxc7,Bb6,Nxe8,d6,Nxd6,Bc7,Nxc8', 'Nf3+,Kh1,Qxh2#', 'https://lichess.org/training/uNGi2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UNhK5', 'Rapid', 'yash1306', 1864, 'ReCeSSiVE', 1805, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c4,Ne7,Nc3,dxc4,Bxc4,Nd7,O-O,Nb6,Bd3,Bxd3,Qxd3,Ned5,Bg5,Be7,Bxe7,Qxe7,a3,a5,Rac1,O-O,Nd2,Rfe8,Nde4,Rf8,Qg3,Nxc3,bxc3,Qxa3,h4,Qe7,h5,h6,Rfe1,Nc8,Re3,Kh8,Qg4,b5,Rg3,Rg8,f4,Qa3,Rf1,Ne7,Nd6,f5', 'Nf7+,Kh7,Qg6+,Nxg6,hxg6#', 'https://lichess.org/training/UNhK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('unhw4', 'Rapid', 'chico80', 1734, 'lgwstone', 1711, 'd4,Nf6,Bg5,d5,Bxf6,exf6,e3,Bb4+,c3,Ba5,Na3,c6,Nf3,Bg4,Be2,O-O,Qd2,Nd7,h3,Bxf3,Bxf3,f5,b4,Bc7,Nc2,Nf6,a4,Re8,O-O,Ne4,Bxe4,fxe4,Qe2,a6,f4,b5,a5,f5,g3,g5,Kf2,Re6,Rh1,Rg6,Rag1,Kf7,Qh5,h6,Ne1,Qf6,Ng2,Rg8,Qe2,Rh8,Ke1,h5,Qf2,h4,g4,Rg7,fxg5,Rxg5,Nf4,Bxf4,Qxf4,fxg4,Qxf6+,Kxf6,Rxg4,Rxg4,hxg4,Kg5,Kf2,h3,Kg3,Rh4,Rxh3,Rxg4+,Kf2,Rh4,Rg3+,Rg4,Rf3,Rh4,Rg3+,Rg4,Kg2,Rxg3+,Kxg3,Kf5,Kh4,Kf6,Kg4,Ke6,Kf4,Kf6,Kg4,Kg6,Kf4,Kh5,Ke5', 'Kg4,Kd6,Kf3,Kxc6,Kxe3', 'https://lichess.org/training/unhw4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UnI1U', 'Rapid', 'hhhggj', 1787, 'Kingrc96', 1918, 'e4,e5,Nf3,d6,Bc4,Be7,h3,Nf6,Nc3,O-O,d4,Nc6,d5,Na5,Be2,c5,a3,Bd7,b4,cxb4,axb4,Qc7,Qd3,Nc6,dxc6,bxc6,O-O,Rab8,Ba3,Nh5,Qd1,Nf4,b5,cxb5,Nxb5,Bxb5,Bxb5,Rxb5,Rb1,Rxb1,Qxb1,Ne2+,Kh1,Rb8,Qd1,Nc3,Qd3,Nb1,Bc1,a5,Nd2,Nxd2,Bxd2,a4,Ra1,Qa7,Be3,Qa5,Qa3,Rb4', 'Bd2,Rb1+,Rxb1', 'https://lichess.org/training/UnI1U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UnIo9', 'Rapid', 'lexmat', 1601, 'Graphirus', 1651, 'c4,d5,c5,Nf6,d4,c6,Bd2,Bf5,Qa4,Ne4,Ba5,Qd7,Nf3,f6,e3,e6,Bd3,Be7,Nbd2,O-O,Nh4,Nxd2,Bxd2,Bxd3,f4,f5,Nf3,Bf6,Qb3,Bc4,Qc2,Qe7,g3,Nd7,b3,Ba6,Ba5,b5,b4,Qf7,Bc7,Bd8,Bd6,Be7,Be5,Nxe5,Nxe5,Qe8,Qe2,Bf6,Nf3,Bb7,a4,a6,a5,Qh5,O-O-O,Rfe8,Rdg1,Kf7,h3,g6', 'g4,Qh6,g5,Qg7,gxf6', 'https://lichess.org/training/UnIo9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UNJi1', 'Blitz', 'WCM kukola', 2183, 'knightjaz', 2287, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Nc3,Be7,f3,Nf6,Be3,O-O,Bd3,Ne5,Qd2,Nxd3+,Qxd3,d5,exd5,Nxd5,Nxd5,Qxd5,O-O-O,Bf6,Kb1,Qa5,Nb3,Qa4,Nc5,Qb4,Nb3,Be6,Bd2,Qa4,Bc3,c5,Bxf6,gxf6,Qe4,Qxe4,fxe4,Bxb3,axb3,Rfe8,Rhe1,Re5,Rd7,b6,c3,a5,Rd6,b5,Rxf6,Kg7,Rf5,Rae8,Rxe5,Rxe5,Kc2,c4,bxc4,bxc4,b3,cxb3+,Kxb3,f5,Kc4', 'Rxe4+,Rxe4,fxe4', 'https://lichess.org/training/UNJi1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('unJR6', 'Blitz', 'delmato', 2370, 'FM chesszerorfl', 2456, 'd4,d5,Nc3,e6,e4,dxe4,Nxe4,Nd7,Nf3,Ngf6,Nxf6+,Nxf6,Bd3,Be7,O-O,b6,Qe2,Bb7,Rd1,O-O,c4,Qc8,Bg5,Re8,Ne5,c5,Bxf6,Bxf6,Bxh7+,Kxh7', 'Qh5+,Kg8,Qxf7+', 'https://lichess.org/training/unJR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UNKkf', 'Rapid', 'Mr_Ruslan', 1722, 'Earl_Gee', 1679, 'e4,e5,Bc4,c6,d3,d5,exd5,cxd5,Bb5+,Nc6,Nf3,Bd6,h3,Nf6,O-O,O-O,Bg5,a6,Bxc6,bxc6,Nbd2,Re8,b3,h6,Bh4,Be6,Nh2,Be7,c4,d4,Bxf6,Bxf6,f4,exf4,Rxf4,Be5,Re4,Qc7,Nhf3,Bf6,Nxd4,Bxd4+,Rxd4,Qc8,Rh4,Qd7,Ne4,Bf5,Qf3', 'Qd4+', 'https://lichess.org/training/UNKkf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uNl5t', 'Blitz', 'Vibor66', 1915, 'hasea69', 1952, 'd4,Nf6,c4,e6,Nc3,d5,e3,c5,cxd5,cxd4,exd4,exd5,Nf3,Nc6,Be3,a6,a3,Bd6,Bd3,O-O,O-O,h6,h3,Be6,Re1,b5,Qd2,Ne7,Bxh6,gxh6,Qxh6,Nf5,Bxf5,Bxf5,Nh4,Bh7,Re3,Kh8,Rf3,Ng8,Qh5,f6,Nxd5,Rc8,Re1,Qd7,Nf5,Bb8,Nh6,Nxh6,Nxf6,Qd6,Qxh6,Qh2+,Kf1,Qh1+,Ke2,Rfe8+,Nxe8,Rxe8+,Re3,Rxe3+,fxe3', 'Qxg2+,Kd1,Qc2#', 'https://lichess.org/training/uNl5t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UnMcl', 'Classical', 'Juchas', 1722, 'geophal', 1695, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,Nxe5,Qd4,Nd3,Qxe4+,Kf1,Bd6,Nc3,Qg6,b3,Nf6,Qe2+,Be6,Bb2,O-O,Ne1,Rfe8,Qd3,Bf5,Qf3,Ne4,Nxe4,Bxe4,Qc3,Be5,Qxe5,Rxe5,Bxe5,Bxc2,Nxc2,Qxc2,Bc3,Re8,h3,Qd3+,Kg1,f5,Kh2,Qd6+,g3,Qc5,Kg2,g5,Rhe1,Rxe1,Rxe1,Kf7,b4,Qd5+,Kh2,Qxa2,Re5,Qa6,Rxf5+,Kg6', 'Rf6+,Kg7,Rxc6+,Kf7,Rxa6', 'https://lichess.org/training/UnMcl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('unMwc', 'Rapid', 'JonnathanFalcao', 1638, 'tammino', 1657, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Nc3,Nge7,O-O,O-O,Ne2,d6,d4,exd4,Nexd4,Bg4,Nxc6,bxc6,Ba4,h6,Qd3,Bb6,Nh4,c5,Kh1,Kh8,f3,Bh5,Be3,Nc8,Nf5,Qf6,Qd2,c4,Bc6,Rb8,Bd5,Bxe3,Qxe3,Nb6,g4,Qg6,gxh5,Qxh5,Rg1,g6,Nxh6,Kg7,Nf5+,Kh7,Nd4,Nxd5,exd5,Rbe8,Qf4,Re5,Rg4,Kg7,Rh4,Qg5,Qxg5,Rxg5,Nc6,a6,Rxc4,Rxd5,b4,Rd2,c3,Rh8,h4,Re8,Rd4,Rc2,c4,Ree2,Rg4,Rh2+,Kg1,Rh3,Rf1,Rxa2,h5,Rxh5,f4,Rah2,Rg2,Rh1+,Kf2,R1h4,Ke1,Rf5,Rfg1,Rhxf4,c5,dxc5,bxc5,Rxc5,Nd8,Re5+,Re2,Ra5,Rd2,Ra1+,Rd1,Re4+,Kf2,Ra2+,Kf3,Raa4,Rd7,Rf4+,Ke3,c5', 'Ne6+,Kf6,Nxf4', 'https://lichess.org/training/unMwc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('unp7W', 'Rapid', 'Deniz_Koc', 1813, 'Amindeo', 1807, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Nxe4,Bxb4,Nxb4,Qb3,Qe7,O-O,O-O,Nc3,Nxc3,bxc3,Nc6,Rfe1,Qd8,Ne5,Na5,Bxf7+,Kh8,Re3,Nxb3', 'Ng6+,hxg6,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/unp7W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uNpln', 'Rapid', 'PinToWin', 1803, 'kentt', 1811, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,Nf3,Bf5,d3,e6,Bf4,c6,O-O,Bd6,Bxd6,Qxd6,h3,Nbd7,Nh4,Bg6,Nxg6,hxg6,Ne4,Nxe4,dxe4,Qxd1,Raxd1,O-O-O,Bb3,Nc5,f3,Rxd1,Rxd1,Rd8,Rxd8+,Kxd8,Kf2,Kc7,Bc4,b5,b4,Nd7,Bb3,Kb6,a4,a6,Ke3,c5,bxc5+,Nxc5,axb5,Kxb5,Kd4', 'Nxb3+,cxb3,Kb4', 'https://lichess.org/training/uNpln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UnRGd', 'Rapid', 'rubenbeto', 1777, 'SunshineHampster', 1795, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Be2,c6,O-O,Nbd7,Ne5,Nxe5,dxe5,Nd7,Bf4,f6,e6,Nc5,Bh5+,g6,Bg4,f5,Bh3,Bxe6,Re1,Qd7,Nc3,Be7,Ne2,O-O,Nd4,Bf7,Nf3,Bf6,Be5,Bg7', 'Bxg7,Kxg7,Qd4+,Kg8,Qxc5', 'https://lichess.org/training/UnRGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('unRJS', 'Rapid', 'DIMETRIS', 1954, 'IVchess', 1954, 'd4,Nf6,Nf3,c5,d5,e6,c4,exd5,cxd5,d6,Nc3,g6,Bg5,Bg7,Qa4+,Bd7,Qh4,O-O,e3,a6,Be2,b5,O-O,Bc8,Ne4,Nbd7,Nxd6,Qe7,Nxc8,Raxc8,Rfd1,Qd6,Bf4,Qb6,Bh6,Rfd8,Ng5,Bxh6,Qxh6,Nf8,e4,Re8,Bf3,Re5,h4,Rce8,h5,Nxe4,Nxe4,Rxe4,Bxe4,Rxe4,hxg6,fxg6,Qg5,Qd6,f4,Rxf4,Re1,Rf5,Qe3,Qxd5,b3,Rg5,Qf2,Rf5,Qe2,Qd6,Rad1,Qc7,Qe8,Rh5,Re3,Qh2+,Kf2,Rf5+,Rf3,Qh4+,Ke2,Qh5,Rd3', 'Re5+,Re3,Rxe8', 'https://lichess.org/training/unRJS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('unsUi', 'Rapid', 'ffirozz', 1967, 'kareemT', 2047, 'f4,d5,Nf3,Nc6,e3,Nf6,Bb5,Bf5,O-O,a6,Bxc6+,bxc6,d3,e6,Ne5,c5,Nc3,Bd6,b3,Bxe5,fxe5,d4,exd4', 'Qxd4+,Kh1,Qxc3,exf6,Qxa1', 'https://lichess.org/training/unsUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UnUFf', 'Rapid', 'Dja-Barra', 1887, 'Scorpion_King84', 1804, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,e6,Bd2,Bb4,Nf3,Nc6,a3,Bxc3,Bxc3,Qh5,Bc4,Nf6,Qd3,O-O,g4,Nxg4,O-O-O,Nxf2,Qe2,Nxh1,Rxh1,Bd7,Rg1,f6,d5,Kh8,dxe6,Rfe8,Qg2,Re7,exd7,Rxd7,Bxf6,Qh6+,Bg5,Qg6,Bd3,Qe6,Nh4,Qa2,Ng6+,hxg6,Qh3+,Kg8,Qxd7,Qa1+,Kd2,Qxg1', 'Bc4+,Kh7,Qh3#', 'https://lichess.org/training/UnUFf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('unujm', 'Rapid', 'Volodya51', 2107, 'Vehmed', 2141, 'e4,c5,Nf3,e6,c3,d5,e5,Nc6,Bb5,Ne7,O-O,Nf5,Re1,Be7,d4,Bd7,Bd3,cxd4,Bxf5,exf5,cxd4,g5,Nc3,Be6,Kh1,h5,Ng1,h4,a3,Qb6,Nge2,h3,g3,Nxe5,dxe5', 'Qxf2,Nf4,gxf4', 'https://lichess.org/training/unujm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UNUWr', 'Classical', 'revel37', 1818, 'sgchornyy', 1835, 'd4,Nf6,Bg5,d5,Nc3,Bf5,Nf3,h6,Bxf6,exf6,e4,dxe4,Nxe4,Bxe4,Be2,Bd6,O-O,O-O,c4,Nc6,c5,Bf4,g3,Bg5,h4,Re8,hxg5,fxg5,Nd2,Nxd4,Nxe4,Rxe4,Bd3,Re6,Qg4,Qd5,f4,gxf4,Rxf4,Qxc5,Raf1,Nf3+,Kh1,Ne5,Qh5,Rf8,Be4,Qe3,Bd5,Ng6,Rf5,Re5,Qxg6,Rxd5', 'Rxf7,Rxf7,Qxf7+,Kh7,Qxd5', 'https://lichess.org/training/UNUWr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UNVKg', 'Rapid', 'Arturik_2011-102', 1911, 'norlex2012', 1931, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d3,Bb4+,Nc3,Qe7,Be2,Nc6,Nf3,O-O-O,Qc2,Rhe8,Be3,Ng4,O-O,Nxe3,fxe3,Bf5,e4,Bg4,Nd5,Qc5+,Kh1,Bxf3,Bxf3,Nd4,Qd1,f6,a3,Ba5,b4,Qd6,bxa5,c6,Nb4,Qe5,a6,b6,Bg4+,Kc7,Bf5,g6,Bg4,h5,Be2,h4,h3,f5,Bf3,Nxf3,Qxf3,fxe4,Qf4,exd3,Qxe5+,Rxe5,Rf7+,Kd6,Nxd3,Re3,Nb4,c5,Rd1+,Ke6,Rxd8,Kxf7,Nd5,Rxa3,Rd7+,Ke6,Rxa7,b5,Nc7+,Ke5,cxb5,c4,Ne8,Rb3,Re7+,Kf4,Rb7', 'Kg3,Re7,Rb1+,Re1,Rxe1#', 'https://lichess.org/training/UNVKg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UNWd5', 'Rapid', 'pyrov', 1796, 'nidalak47', 2114, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,Nc3,Qd8,O-O,Be7,Re1,Bg4,d3,O-O,Re4,f5,Re1,Bf6,h3,Bh5,Ne2,Bxf3,gxf3,Nd4,Ng3,f4,Ne4,Qd5,Kh2,Rad8,Rg1,Kh8,b3,Nf5,Qf1,Nd6,Ba3,Nxe4,dxe4,Qc6,Bxf8,Rxf8,c4,Qc5,Rd1,Rd8,Rxd8+,Bxd8,Qd3,Bf6,Qd7,h6,Qe8+,Kh7,Qg6+,Kg8,Qxf6', 'Qxf2+,Rg2,Qxg2+,Kxg2,gxf6', 'https://lichess.org/training/UNWd5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UNWQl', 'Classical', 'R9825549694', 1992, 'Avirat', 1965, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qd2,Be7,O-O-O,h6,Bxf6,Bxf6,Kb1,b5,g4,Bb7,Bg2,Nd7,Rhg1,Rc8,e5,dxe5,Bxb7,exd4,Bxc8,Qxc8,Ne4,Qc7,Nxf6+,Nxf6,Qxd4,O-O,g5,hxg5,Rxg5,Rc8,c3,Kf8,Qd6+', 'Qxd6,Rxd6,Ne4,Rxa6,Nxg5', 'https://lichess.org/training/UNWQl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('unxuC', 'Rapid', 'Enigma16', 2001, 'Lynaleks22', 2237, 'c4,e6,Nf3,d5,d4,c6,Nc3,Be7,Bf4,dxc4,e3,b5,a4,Qb6,Be2,Nd7,O-O,Ngf6,b3,b4,a5,Qd8,Na4,c3,a6,O-O,Qc2,Nh5,Be5,f6,Bg3,Nxg3,fxg3,Re8,Bd3,Nf8,Bc4,Qc7,e4,Bd7,e5,Rad8,Rae1,Kh8,exf6,gxf6,Qc1,c5,d5,Bxa4,bxa4,exd5,Bb5,Nd7,Qh6,Bf8,Rxe8,Rxe8,Qh5,Re7,Nh4,Qe5', 'Ng6+,Kg8,Nxe5', 'https://lichess.org/training/unxuC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uo0eo', 'Rapid', 'Maciej2012', 1738, 'Testrider', 2179, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,d5,d3,Qe7,dxe4,Qxe5,exd5,Nd7,Bf4,Qxe2+,Bxe2,c6,dxc6,bxc6,Nc3,Bb4,O-O,Bxc3,bxc3,O-O,Rab1,Re8,Bg4,Nb6,Bf3,Nd5,Bg3,Ba6,Rfe1,Nxc3,Bxc6,Rxe1+,Rxe1,Rc8,Bd7,Rd8,Bc7,Rf8,Bd6,Rd8,Bb4', 'Ne2+,Kh1,Rxd7', 'https://lichess.org/training/uo0eo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uO3Nx', 'Rapid', 'glorij1', 1794, 'staryzgred', 1987, 'Nf3,f5,e3,Nf6,Be2,e6,O-O,Be7,b3,O-O,Bb2,d5,Ne5,Nbd7,f4,c6,Nxd7,Bxd7,Be5,Be8,d4,Ne4,Nd2,Nc3,Qe1,Bf6,Nb1,Ne4,c4,g5,Nc3,Bxe5,dxe5,Qb6,Nxe4,dxe4,Qc3,g4,c5,Qc7,Rfd1,Bf7,Rd6,Rad8,Rad1,b6,b4,bxc5,Qxc5,Rxd6,Rxd6,Rc8,Ba6,Rd8,Rxc6,Rd1+,Kf2,Qd7,Rc8+,Kg7,Qf8+,Kg6,Qh8', 'Qd2+,Be2,Qe1#', 'https://lichess.org/training/uO3Nx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uo43u', 'Rapid', 'Satwik_B', 1786, 'Sorockyn', 1760, 'c4,c5,Nc3,Nc6,g3,d6,Bg2,Qc7,Nf3,a6,d4,b6,Nd5,Qa7,Qb3,Rb8,Bf4,Nxd4,Nxd4,cxd4,Nb4,e5,Nc6,Qb7,Nxb8,Qxg2,Qa4+,Kd8,O-O-O,exf4,Nc6+,Kc7,gxf4,Qxf2,Nxd4,Qxf4+,Kb1,Qe4+,Ka1,Nf6,e3,Nd7,Rc1,Nc5,Qd1,Qxe3,b4,Ne6,Nb5+,axb5,cxb5+,Kd7,Qc2,Be7', 'Qc6+,Kd8,Qxc8#', 'https://lichess.org/training/Uo43u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UO4Ds', 'Blitz', 'SaryglarOrlan', 2006, 'adyg_ch', 2040, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,d6,h3,h6,c3,Bb6,d4,exd4,cxd4,O-O,Nc3,Ba5,a3,Bxc3,bxc3,d5,exd5,Nxd5,Qd3,Be6,Ne5,Nxe5,Rxe5,c6,Bd2,Qf6,Ba2,Nf4,Bxf4,Bxa2,Bg3,Be6,Rae1,Rfe8,R1e3,Bd7,f4,Rxe5,fxe5,Qe7,Rf3,Qxa3,Bh4,Be6,Kh2,Qb3,Rg3,Qc4,Qe3,Kh7,Qe4+,g6,Bf6,a5,Rf3,a4,Qf4,a3,Qh4,a2,Rf4,a1=Q', 'Qxh6+,Kxh6,Rh4#', 'https://lichess.org/training/UO4Ds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uo79b', 'Rapid', 'max9013', 1705, 'king_face', 1689, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nxe4,Qg4,Nxc3,Qxg7,Rf8,bxc3,h5,Bb5,Qc7,Qh7,d6,Qxh5,Be6,Qg5,Kd7,h4,Bd5,h5,Rg8,Qf5+,Ke7,h6,Rxg2,h7,Rh8,O-O-O,Be6,Qf3,Rg7,Bd3,a5,Rdg1,Rxg1+,Rxg1,Qc8,Qg3,f5,Bxf5,Bxf5,Qg8,Bxh7', 'Rg7+,Kf6,Qf7#', 'https://lichess.org/training/uo79b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UO7Ui', 'Rapid', 'ttotheb', 1845, 'sstojkovic', 1865, 'd4,d5,e4,dxe4,Nc3,c5,Nxe4,cxd4,Nf3,Bf5,Ng3,Bg4,Qxd4,Qxd4,Nxd4,e5,Nb5,Na6,Ne4,Rd8,Be2,Bf5,Bd3,Nb4,Nc7+,Ke7,Ke2,Rd7,Nb5,a6,Be3,Nxd3,cxd3,axb5,Nc5,Rc7,Rac1,Nf6,d4,e4,Bf4,Rc8,Nxb7,Rxc1,Rxc1,Bg4+,f3,exf3+,gxf3,Nd5,Bd6+,Ke6,Bxf8,Bxf3+,Kxf3,Rxf8,Ke4,Re8', 'Rc6+,Kd7+,Kxd5', 'https://lichess.org/training/UO7Ui');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uo8S6', 'Rapid', 'Abadona', 2025, 'Pol64', 1971, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Be7,e4,d6,f4,b6,e5,dxe5,fxe5,Nfd7,Qf3,c6,Bd3,O-O,Nge2,Bb7,O-O,f5,exf6,Nxf6,Qh3,g6,Qxe6+,Kg7,Bf4,Qd7,Qe3,Ng4,Qd2,Kg8,h3,Nf6,Bh6,Re8,Kh1,Na6,Qc2,c5,d5,Nxd5,cxd5,Bxd5,Bxg6', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/Uo8S6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UO9hS', 'Classical', 'danzel25', 1874, 'protos656', 2012, 'e4,c5,Bc4,e6,d3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Nc6,h3,Nf6,Nc3,d4,Ne2,Bd6,a3,O-O,O-O,Rfe8,Bf4,Ne5,Bxe5,Bxe5,Nxe5,Rxe5,Ng3,Rae8,Qd2,h5,Rae1,Rxe1,Rxe1,Rxe1+,Qxe1,h4,Ne2,Qe6,Kf1,b5,f3,g5,Qa5,Qb6,Qd2,Nh7,Nc1,f6,Qe2,Kf7,Qe4,Nf8,Nb3,c4,Qd5+,Ne6,dxc4,bxc4,Qxc4,Kg7,Qc8,Nf4,Qd7+,Kg6,Qxd4', 'Qb5+,c4,Qxb3', 'https://lichess.org/training/UO9hS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uOADr', 'Classical', 'kishanjadi', 1674, 'Rameshwar244', 1797, 'e4,e5,Bc4,Nc6,Nf3,Nd4,Nxd4,exd4,Qh5,Qe7,d3,Nf6,Qe2,d6,Bg5,Be6,Bb3,O-O-O,Nd2,h6,Bxf6,gxf6,O-O-O,Rg8,g3,d5,exd5,Bxd5,Qxe7,Bxe7,Bxd5,Rxd5,Rde1,Bd6,Ne4,f5', 'Nf6,Rh8,Nxd5', 'https://lichess.org/training/uOADr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UOAw1', 'Classical', 's1mple99', 1655, 'forgen', 1923, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,c3,Bb6,a4,O-O,b4,a5,b5,Ne7,Ba3,d5,Bxd5,Nexd5,Bxf8,Nf4,Ba3,Nxg2+,Kf1,Bh3,Kg1,Nxe4,Qe2,Qxd3,Qxd3', 'Bxf2+,Kf1,Nf4#', 'https://lichess.org/training/UOAw1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uOBkR', 'Blitz', 'Matteucci', 2193, 'Capa_Bobby', 2197, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Bc4,Bg7,Ne2,O-O,O-O,Qa5,Be3,Rd8,Qb3,e6,f4,b6,f5,cxd4,cxd4,gxf5,exf5,exf5,Bxf7+,Kh8,Be6,Rf8,Rac1,Nd7,Rxc8,Raxc8,Bxd7,Rc7,Be6,Re7,d5,Qa6,Nf4,Qb7,Bc5,bxc5', 'Ng6+,hxg6,Qh3+,Bh6,Qxh6+,Rh7,Qxf8#', 'https://lichess.org/training/uOBkR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UoByx', 'Rapid', 'ran65', 2179, 'Allanfrianeza', 2243, 'e4,e6,d4,d5,Bd3,Nf6,e5,Nfd7,c3,c5,Ne2,Nc6,a3,Qb6,b4,cxd4,cxd4,a6,Be3,g6,O-O,h5,Nbc3,Bh6,Na4,Qd8,Qd2,Bxe3,fxe3,Qg5,Rac1,h4,Nf4,h3,g3,Ne7,Qf2,Nf5,Bxf5,gxf5,Rc2,b5,Nb2,Nb6,Rfc1,Nc4,Nxc4,dxc4,Qf3,Ra7,Qc6+,Bd7,Qb6,Ra8,Qb7,Qd8,d5,Rb8,Qxa6,Ra8,Qd6,Rxa3,dxe6,Bxe6,Nxe6,Qxd6,Ng7+,Kf8,exd6,Kxg7,Rd2,Rd8,Rd5,Ra2,Rcd1,Rg2+,Kh1,Ra8,d7,Raa2,d8=Q', 'Rxh2+,Kg1,Rag2+,Kf1,Rh1#', 'https://lichess.org/training/UoByx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uODIQ', 'Classical', 'Yuli1', 1765, 'Gem0', 1752, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,O-O,Be2,e5,d5,a5,Nf3,Ng4,Bg5,f6,Bd2,Na6,Qc1,f5,h3,Nf6,Bg5,h6,Bxh6,Nc5,exf5,Bxf5,Bxg7,Kxg7,Qg5,Nh7,Qxd8,Raxd8,b3,c6,Rd1,Be4,Nxe4,Nxe4,Rd3,c5,Nd2', 'Nxf2,Rh2,Nxd3+', 'https://lichess.org/training/uODIQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UOdqD', 'Classical', 'blaco50gr', 1880, 'Anriudh', 1613, 'd4,d5,c4,e6,Nf3,Nf6,Bf4,Nc6,e3,Bd6,Bg5,h6,Bxf6,Qxf6,c5,Be7,Qd2,e5,Bb5,exd4,exd4,Bd7,Ne5,Nxe5,Bxd7+,Nxd7,O-O,O-O,Nc3,c6,a4,b6,b4,a5,bxa5,Rxa5,cxb6,Nxb6,Nxd5,cxd5,Qxa5,Qxd4,Qa7,Bc5,a5,Nc4,Qc7,Bb4,a6,Bc3,Rab1,Ba5,Qb7,Bb6,Rbd1,Qc5,Rxd5,Qb4,a7', 'Bxf2+,Rxf2,Qxb7', 'https://lichess.org/training/UOdqD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uofcz', 'Classical', 'alirezachef', 1696, 'angkyutko', 1683, 'e3,d5,d4,c5,a3,Nf6,Nc3,Bf5,Na4,Qa5+,Nc3,e6,Bb5+,Nc6,Bxc6+,bxc6,Bd2,Qc7,Na4,Bd6,Nxc5,Bxc5,dxc5,O-O,Nf3,Ng4,h3,Ne5,O-O,Ng6,Nd4,Qe5,Bc3,Be4,Nxc6,Qg5,f3,Nh4,g4', 'Qxe3+,Rf2,Nxf3+', 'https://lichess.org/training/Uofcz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uOFhy', 'Blitz', 'wjumaa', 1888, 'MonsieurKuhn', 1914, 'd4,d5,c4,dxc4,Nc3,e5,e3,Nf6,Bxc4,Bb4,Nf3,O-O,O-O,Bg4,Be2,exd4,Nxd4,Bxe2,Ndxe2,Nc6,Qxd8,Raxd8,a3,Be7,b4,a5,b5,Ne5,Nf4,Nd3,Nxd3,Rxd3,Bb2,Rfd8,h3,c6,Rac1,Rd2,bxc6,Rxb2,Na4,Rbd2,c7,Rc8,Nb6,Bxa3,Rcd1,Rxd1,Rxd1,Rxc7,Rd8+,Bf8,e4,Rc6,Nc8,Nxe4', 'Ne7+,Kh8,Rxf8#', 'https://lichess.org/training/uOFhy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uOFSw', 'Rapid', 'DAN07', 1965, 'techhelpstew', 2067, 'e4,c5,Nc3,e6,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Be3,Bb4,f3,d5,exd5,Nxd5,Nxc6,bxc6,Bd2,O-O,Bd3,Qh4+,Kf1,a5,Qe1,Qf6,Nxd5,exd5,Bxb4,axb4,Qxb4,c5,Qxc5,Qxb2,Kf2,Ba6,Rab1,Qe5,Rhe1,Qh5,Bxa6,Rxa6,h3,Rxa2', 'Qxf8+,Kxf8,Rb8#', 'https://lichess.org/training/uOFSw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uOGf0', 'Rapid', 'caplador1969', 2315, 'DemOleg', 2109, 'd4,Nf6,Nf3,e6,g3,b6,Bg2,Bb7,O-O,Be7,c4,O-O,Nc3,c5,d5,exd5,cxd5,d6,e4,Nbd7,Re1,a6,a4,c4,Bf4,Rc8,Bf1,Ng4,Nd2,Nge5,Bxe5,Nxe5,f4,Nd3,Bxd3,cxd3,Nf3,b5,axb5,axb5,Qxd3,b4,Ne2,Qb6+,Kg2,Rc5,Ned4,Rfc8,Nb3,R5c7,Re2,h5,Nbd4,Rc5,Rd2,h4,gxh4,Rc4,Nb3,Ba6,Nfd4,Rxd4,Qxd4,Qb5,Kg3,Rc4,Qa7,Rxe4,Qxa6,Qxa6,Rxa6,Re3+,Kg4,Rxb3,h5,Re3,Ra8+,Kh7,Re8,g6,hxg6+,Kxg6,h4', 'f5#', 'https://lichess.org/training/uOGf0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UoGK3', 'Blitz', 'GM Crest64', 2559, 'sercher', 2349, 'd4,Nf6,c4,d6,Nc3,Bf5,f3,e5,d5,e4,Be3,Nbd7,g4,Bg6,h4,h6,h5,Bh7,Bg2,Ne5,b3,Be7,Nh3,Nfd7,O-O,exf3,exf3,O-O,Qd2,a5,Rae1,Nc5,Bd4,Bf6,Nf2,Ned3,Bxf6,Qxf6,Nxd3,Nxd3', 'Ne4,Qh4,Qxd3', 'https://lichess.org/training/UoGK3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UoH2S', 'Classical', 'xxxRaider', 1560, 'dmitriySyrbu', 1565, 'e4,e5,Nf3,Nc6,Bb5,Be7,Bxc6,dxc6,h3,Bd6,Nc3,Nf6,O-O,O-O,d3,h6,Nh4,Nh7,Qh5,f5,Ng6,Rf7,Bxh6,gxh6,Nh8,Kxh8,Qxf7,fxe4,Nxe4,Ng5,Nxg5,hxg5,Qh5+,Kg7,Rae1,Qf6,Re4,Bf5,Re3,Bc5,Rg3,Rh8', 'Rxg5+,Kf8,Rxf5,Rxh5,Rxf6+', 'https://lichess.org/training/UoH2S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UOhdQ', 'Blitz', 'Kratkodlaki', 1642, 'Blesso1991', 1679, 'Nf3,Nc6,d4,d5,g3,e6,Bg2,Bd6,O-O,h6,Nbd2,Nge7,b3,a6,c4,dxc4,bxc4,Ng6,Ne4,Be7,Bb2,O-O,d5,exd5,cxd5,Na5,Qd4,f6,Rfd1,Bf5,Nc5,Bxc5,Qxc5,b6,Qc3,Nb7,Nd4,Bd7,Rac1,Rc8,h4,Nd6,h5,Ne5,Nc6,Nxc6,dxc6,Be6,e4,Qe7,e5,Nb5,exf6,Rxf6,Qe1,Rff8,Qe5,Qf7,Rd7,Bxd7,cxd7,Qxd7,Bd5+,Kh8,Qe3,Qxd5', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/UOhdQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UoiX6', 'Rapid', 'TheWorld37', 1783, 'MANUELDASILVAALMEIDA', 2186, 'd4,f5,Bg5,g6,Nc3,Bg7,Nf3,Nf6,Bxf6,Bxf6,e4,d6,Bc4,fxe4,Nxe4,d5,Nxf6+,exf6,Qe2+,Kf7,Bd3,Re8,Ne5+,fxe5,dxe5,Qg5,f4,Qh4+,g3,Qg4,Qf2,Nc6,h3,Qh5,Be2,Qh6,O-O-O,Be6,g4,Kg8,Kb1,Rf8,Rdf1,Rae8,Bd3,Nxe5,f5,Nxd3,cxd3,gxf5,gxf5,Rxf5,Rhg1+,Kh8', 'Qd4+,Qf6,Qxf6+,Rxf6,Rxf6', 'https://lichess.org/training/UoiX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UOjtQ', 'Bullet', 'helena2020', 2232, 'Hippolytus', 2366, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e4,d6,Be2,e5,O-O,exd4,Nxd4,c6,Nc2,Re8,f3,Na6,Kh1,Nc5,Be3,a5,Qd2,Qc7,Rad1,Bf8,Bf4,Re6,Nd4,Re8,Nc2,Re6,Nd4,Re8,Nb3,Nxb3,axb3,Re6,c5,Ne8,Bc4,Rf6,Bg5,dxc5,Bxf6,Nxf6,Rfe1,b5,e5,Nh5,Bf1,Be6,Ne4,Bxb3,Rc1,Qxe5,Nxc5', 'Ng3+,hxg3,Qh5+,Kg1,Bxc5+,Rxc5,Qxc5+', 'https://lichess.org/training/UOjtQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UoJVR', 'Rapid', 'PaulRoger', 2173, 'x0404', 2008, 'd4,d5,c4,c5,Nf3,Nc6,Qa4,e6,Nc3,cxd4,Nxd4,Bd7,cxd5,exd5,Nxd5,Nxd4,Qxd4,Nf6,Bg5', 'Qa5+,Bd2,Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/UoJVR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uolmS', 'Blitz', 'juanjo170172', 1588, 'themadqueen', 1659, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,Nf6,Be3,Bxe4,Bxe4,Nxe4,Qe2,Nf6,O-O-O,e6,Nf3,Nd5,Rhe1,Bb4,c3,Ba5,Ne5,Nxe3,fxe3,Nd7,Qf3,Nxe5,dxe5,Qe7,Rf1,Rd8,Rde1,O-O,g4,Qd7,Rf2,Qd5,Qg3,Qxa2,Ref1,Qa1+,Kc2,Qa4+,Kc1,Rd5,h4,Rfd8,Qf3,Kh8,g5,Rxe5,Qxf7,Qa1+,Kc2,Qa4+,Kc1,Rg8', 'Qxg8+,Kxg8,Rf8#', 'https://lichess.org/training/uolmS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uoM8i', 'Rapid', 'hegedabegeda', 1755, 'miwa', 1723, 'd4,e6,c4,Be7,Bf4,g5,Bg3,h5,h3,h4,Bh2,Nf6,Nf3,d6,Nxg5,Nh5,Nf3,Na6,a3,Bd7,e3,c5,dxc5,Nxc5,Be2,Ba4,Qd4,Bf6,Qxd6,Qxd6,Bxd6,Ne4,Be5,Rd8,O-O,Rg8,Bxf6,Nhxf6,Nxh4,Rh8,Nf3,Ke7,Nc3,Bc6,Nxe4,Bxe4,Rad1,Rdg8,Rd4,Rxh3,Rfd1', 'Bxf3,Bxf3,Rxf3', 'https://lichess.org/training/uoM8i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uon2I', 'Rapid', 'dthakanguney', 1714, 'Dorset_Naga', 1700, 'd4,e5,dxe5,Bc5,Bf4,d6,Nf3,Ne7,Bg5,h6,Bxe7,Kxe7,exd6+,Ke8,dxc7', 'Bxf2+,Kxf2,Qxd1,cxb8=B,Rxb8', 'https://lichess.org/training/uon2I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uoNHX', 'Rapid', 'andsog1972', 2244, 'Azzy_23', 1931, 'c4,f5,Nf3,Nf6,Nc3,g6,d4,Bg7,g3,O-O,h4,d6,Bg2,a6,Qb3,Nc6,Bg5,Ne4,c5+,Kh8,h5,Nxg5,Nxg5,Qe8,hxg6,h6,Nf7+,Rxf7,gxf7,Qf8,e3,e6,cxd6,cxd6,Qa3,Nd8,Ne2,Nxf7,Nf4,Kh7,Rc1,e5,Nh5,exd4,Nxg7,Qxg7,Rc7,Be6,Qd3,dxe3,Re7,exf2+,Kxf2,Qxb2+,Kg1,Qa1+,Kh2,Qxa2,Re1,Bc4,Qxf5+,Kg8,Re8+,Rxe8,Rxe8+,Kg7,Qg4+,Kh7', 'Qg8#', 'https://lichess.org/training/uoNHX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UONo2', 'Blitz', 'manchessther', 1918, 'nasirmahmood', 1873, 'd4,d5,Nf3,Nc6,e3,a6,c4,Nf6,Nc3,Bg4,h3,Bxf3,Qxf3,e6,a3,Na5,cxd5,exd5,b4,Nc6,Bd3,Qd7,O-O,h6,Bd2,Qd6,Rac1,Be7,Na4,O-O,Nc5,Rab8,Rfd1,Nd8,Bb1,Ne6,Ba2,Ng5,Qf5,c6,h4,Nge4,Nxe4,Nxe4,Qg4,a5,f3,Nf6,Qh3,axb4,Bxb4,Qd8,e4,Bxb4,axb4,dxe4,fxe4,Nxe4,Rf1,Nf6,Rcd1,Ra8,Bb1,Re8,Qd3,Ne4,Rde1,Qxh4', 'Rxe4,Rxe4,Qxe4,Qxe4,Bxe4', 'https://lichess.org/training/UONo2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UOOlE', 'Rapid', 'CONCEntrado', 1847, 'Propal', 1901, 'b4,e6,Bb2,d5,e3,Bxb4,Bxg7,f6,Bxh8,Nh6,Qh5+,Nf7,Qxh7,Nd7,Bd3,Nf8,Qh5,c6,Nf3,e5,Bg7,e4,Bxf8,Bxf8,Nh4,exd3,cxd3,Be6,O-O,Qb6,Nc3,O-O-O,Rab1,Qa6,a4,Qxd3,Ne2,Ne5,f4,Bg4,Qh8,Bxe2,Rfc1,Ba3,Qg7,Bxc1', 'Qxb7#', 'https://lichess.org/training/UOOlE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UoQMJ', 'Rapid', 'soheib09', 1829, 'LenteAldente', 1819, 'd4,d5,c4,b6,Nc3,Bb7,Bf4,e6,h3,Ne7,e3,Ng6,Bh2,Bb4,Qc2,Nd7,Nf3,Nf6', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/UoQMJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uoqoe', 'Rapid', 'YsnC16', 1845, 'rupeshdvc', 1892, 'e4,d5,exd5,Nf6,d6,exd6,Nf3,Bg4,Be2,Nc6,O-O,h6,Re1,Be7,h3,Bh5,Nh4,Bxe2,Qxe2,Ne5,Nf5,O-O,d4,Ng6,Nxe7+,Nxe7,Qxe7,Qxe7,Rxe7,Rfe8,Rxe8+,Rxe8,Be3,Nd5,Nc3,Nxe3,fxe3,Rxe3,Nd5,Re2,Rc1,c6,Nf4,Re4,Nd3,Rxd4,c3,Rxd3,Re1,d5,Re7,b5,Rxa7,Rd2,Ra6,Rxb2,Rxc6,Rxa2,Rc5,Ra1+,Kf2,Rc1,Rxd5,Rxc3,Rxb5,Rc7,Kf3,g5,h4,f6,hxg5,hxg5,Kg4,Kg7,Kf5,Rf7,Rb3,Re7,Rb5,Re5+,Rxe5,fxe5,Kxg5,e4,Kf4,e3', 'Kxe3,Kf6,Kf4', 'https://lichess.org/training/Uoqoe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uOR19', 'Rapid', 'ilovechess36', 1675, 'thecca', 2101, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,Nc6,Nb3,Be6,Qd2,O-O,O-O-O,a5,Nd4,Nxd4,Bxd4,a4,a3,Qa5,Bb5,Rfc8,Rhe1', 'Rxc3,Bxc3,Qxb5', 'https://lichess.org/training/uOR19');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UosAX', 'Rapid', 'georgiydik', 1806, 'di1991', 1935, 'd4,d5,Nf3,Nf6,Bf4,c6,h3,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Bd6,Ne5,Nbd7,Nc3,Qc7,g4,Bxe5,dxe5,Nxe5,Qe2,Nfd7,g5,Qb6,O-O,O-O,Na4,Qb4,b3,b5,c3,Qa5,Nc5,Qxc3,Rac1,Qa5,Nxd7,Nxd7,Rxc6,e5,Bg3,Rfc8,Rfc1,Rxc6,Rxc6,Nf8,Bxe5,Ne6,f4,Qb4,h4,a6,Qg2,d4,Bd6,Qe1+,Kh2,Qxe3', 'Rc3,Rd8,Rxe3', 'https://lichess.org/training/UosAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uosdp', 'Classical', 'tacotactics', 1968, 'slowdown1130', 1993, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,d6,O-O,Bxc3,bxc3,h6,h3,Be6,Be3,c5,Qe2,O-O,f4,Re8,c4,g6,e5,Nh7,f5,Bxf5,Bxf5,gxf5,Qh5,Rxe5,Bxh6,Qf6,Rf4,Qg6,Qh4,Rae8,Rf3,f6', 'Rg3,Ng5,Bxg5,fxg5,Rxg5,Kf7,Rxg6', 'https://lichess.org/training/Uosdp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UOSoC', 'Blitz', 'prosperperime', 1512, 'treshgame', 1564, 'e4,e5,f4,d6,Nf3,Nf6,Nc3,Bg4,h3,Bh5,g4,Bg6,f5,Bxf5,gxf5,Be7,d4,exd4,Nxd4,O-O,Be3,Re8,Rg1,Nxe4,Nxe4,Bh4+,Bf2,Rxe4+,Be2', 'Bxf2+,Kxf2,Qh4+,Kg2,Rxd4', 'https://lichess.org/training/UOSoC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uOtm8', 'Rapid', 'Narbouki', 1705, 'Isedrzoltan', 1633, 'e4,c5,Nf3,Nc6,Nc3,d6,Bb5,Qc7,Nd5,Qa5,b3,e6,Bxc6+,bxc6,Nc3,Nf6,O-O,Be7,Qe1,Ba6,d3,d5,e5,Nd7,Bd2,Qc7,a4,O-O,h3,d4,Nd1,f6,exf6,Rxf6,Bg5,Rxf3,Qxe6+,Rf7,Bxe7,Re8,Qd6,Qxd6,Bxd6,Re2,Ra2,Bxd3,f3,Rxc2,Rxc2,Bxc2,b4,Rf6,Bxc5,Nxc5,bxc5,Bxa4,Nb2,Bb5,Rd1,Re6,Rxd4,Re1+,Kf2,Rb1,Nd3,a5,Ne5,Kf8,Rd8+,Ke7,Rc8,a4,Nxc6+,Kd7,Na7,Rb2+,Kg3,Bf1,c6+,Kd6,Rd8+,Kc7,Rd7+,Kb6,c7,Rxg2+,Kf4,g5+,Ke3,Re2+,Kd4,Rd2+,Kc3', 'Rxd7,c8=Q,Rc7+', 'https://lichess.org/training/uOtm8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uOTZD', 'Rapid', 'sara2669', 1916, 'resueraromeoramil', 2060, 'd4,Nf6,c4,c5,d5,b5,b3,g6,Bb2,Bg7,Nf3,d6,e3,O-O,Nbd2,a6,Be2,Nbd7,O-O,Bb7,e4,h6,h3,Qb6,Rb1,Rad8,a3,e6,Nh2,exd5,exd5,Rde8,Bf3,Ne5,Re1,Nd3,Bxf6', 'Rxe1+,Qxe1,Nxe1', 'https://lichess.org/training/uOTZD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UOuIP', 'Rapid', 'rahul_nayak', 1789, 'Rezznorock', 1734, 'e4,e5,f4,exf4,Nf3,g5,d4,g4,Ne5,Qh4+,g3,fxg3,Qxg4,g2+,Qxh4,gxh1=Q,Qf2,Qxe4+,Be2,d6', 'Qxf7+,Kd8,Qxf8#', 'https://lichess.org/training/UOuIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uoUKV', 'Rapid', 'X__Gandalf__X', 1787, 'hamoda0022', 1756, 'e4,c5,Nc3,Nc6,Nf3,e6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Bd3,Bg7,Bd2,d5,exd5,cxd5,O-O,Nf6,Re1,O-O,Bg5,h6,Bh4,Bb7,Ne2,d4,Qd2,Qd5,f3,g5,Bg3,e5,c3,e4,fxe4,Nxe4,Bxe4,Qxe4,Nxd4,Bxd4+,cxd4,Qc6,Rac1,Qb6,Bf2,Qd6,Qe3,Rfe8,Qg3,Qd5,a3,f5,Re5,Rxe5,dxe5,f4,Qg4,Qxe5,Rc2,Qd5,Bc5,h5,Qe2,g4,Qc4,Qxc4,Rxc4,Rc8,b4,f3,gxf3,Bxf3,Kf2,a5,Rd4,axb4,axb4,Kh7,Rd7+,Kg6,Rd6+,Kg5,Be3+,Kh4,Rh6', 'Rc2+,Kg1,Rg2+,Kf1,Rxh2', 'https://lichess.org/training/uoUKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uOUq8', 'Rapid', 'Linus_Namikaze', 1627, 'Arvind64', 1712, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,c3,d5,exd5,Nxd5,Bg5,Qd7,b4,Bb6,a4,a5,b5,Nce7,Nxe5,Qf5,Nf3,h6,Bh4,g5,Bg3,Be6,d4,Rfd8,Ne5,c5,Qh5,Kg7,Ng4', 'Qxg4,Qxg4,Bxg4', 'https://lichess.org/training/uOUq8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UOW4x', 'Blitz', 'brudinski', 2012, 'Tekkii', 1963, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Bg5,a6,a3,e5,Nf5,Bxf5,exf5,Be7,Bc4,O-O,O-O,b5,Bb3,Rc8,f4,Nd4,fxe5,dxe5,Ba2,b4,axb4,Bxb4,Ne4,Be7,c3,Nxe4,Bxe7,Nxc3,bxc3,Qxe7,cxd4,Rfd8,d5,Qc5+,Kh1,e4,f6,e3,Qg4,g6,Qg5,e2,Rfe1,Qf2,Qh6,Qxf6,Qd2,Re8,Rab1,Rb8,Rxb8', 'Qf1+,Rxf1,exf1=Q#', 'https://lichess.org/training/UOW4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UoWA1', 'Blitz', 'CM tunacem', 2331, 'A347', 2357, 'd4,Nf6,Nf3,e6,e3,b6,Bd3,Bb7,O-O,c5,c4,cxd4,exd4,d6,Nc3,Nbd7,Bg5,Be7,Qe2,O-O,Rad1,Re8,Rfe1,Nf8,Qe3,a6,Qf4,Qc7,b3,Rac8,Ne4,Nxe4,Bxe4,Ng6,Bxg6,hxg6,Bxe7,Qxe7,d5,e5,Qe3,b5,Rc1,bxc4,bxc4,Rc5,Nd2,Rec8,Qa3,Qc7,Ne4,Rxc4,Rxc4,Qxc4,Nxd6,Qc3', 'Qxc3,Rxc3,Nxb7', 'https://lichess.org/training/UoWA1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UOWvA', 'Blitz', 'ForestRoman', 2009, 'Nikitenko_Nikolay', 1963, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Nf6,d3,Be7,O-O,O-O,h3,a6,Bb3,b5,Nbd2,Re8,Re1,Bf8,Nf1,h6,Ng3,Bd7,a4,b4,Bd5,Nxd5,exd5,Nb8,cxb4,f5,Qc2,c6,dxc6,Nxc6,Bd2,Rb8,Qc4+,Kh8,Qxa6,Nxb4,Bxb4,Rxb4,Reb1,Qb8,Qa5,Qb7,Rc1,Ra8,Qc7,Be6,Nh4,Qxc7,Ng6+,Kh7,Nxf8+,Rxf8,Rxc7,Rxb2,a5,f4,Ne4,d5,Nc5,Bf5,a6,Ra8,a7,e4,dxe4,dxe4,Re1,Ra2,Nxe4,R2xa7,Nf6+,Kg6,Rxa7,Rxa7,Nd5,Ra4,Ne7+,Kg5,Re5,g6,Nxf5,gxf5,Re1,Re4,Rxe4,fxe4,Kf1,h5,g3,fxg3,fxg3,Kf5,Ke2,Ke5,Ke3,Kf5,Kd4,h4,gxh4,Kf4,h5,e3,h6', 'e2,h7,e1=Q,h8=Q,Qa1+,Kd5,Qxh8', 'https://lichess.org/training/UOWvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UOX2E', 'Classical', 'IGORS1603', 1747, 'babak2950', 2038, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,d3,Be7,h3,O-O,Bxc6,bxc6,d4,exd4,Nxd4,c5,Nc6,Qd7,Nxe7+,Qxe7,Bg5,Ba6,f3,Qe5,Bxf6,Qxf6,Nd5,Qh4+,Kd2,Qf2+,Kc1,Bc4,Nxc7,Rac8,Nd5,Qxg2,Rg1,Qxh3,b3,Bxd5,exd5,Qh6+,Kb1,a5,Kb2,Qf6+,c3,Rfe8,Rc1,Re3,Rf1,Rce8,Rc2,R8e5,f4,R5e4,Qc1,Qf5,c4,Re2,Kb1,Rxf4,Rxf4,Qg6,Rf1,h5,Kb2,Re8,Rff2,a4,Rc3,Ra8,Qc2', 'a3+,Kb1,Qg1+,Qc1,Qxf2', 'https://lichess.org/training/UOX2E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uOxi2', 'Rapid', 'professionalpatzer1', 1784, 'ersoyersoy', 1729, 'c4,g6,Nc3,Bg7,g3,Nf6,Bg2,O-O,Rb1,c5,Nf3,Nc6,a3,e5,b4,e4,Ng5,d5,cxd5,Nxd5,Ngxe4,Nxc3,Nxc3,cxb4,axb4,Bg4,O-O,Qc7,Qc2,Bf5,d3', 'Nd4,Qd1,Qxc3', 'https://lichess.org/training/uOxi2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uoYcm', 'Blitz', 'istr88', 1526, 'Amp061', 1627, 'd4,e6,e4,d5,Nc3,Nf6,Bg5,Be7,Nf3,dxe4,Bxf6,exf3,Bxe7,fxg2,Bxg2,Qxe7,Qf3,Nc6,O-O-O,O-O,d5,exd5,Nxd5,Qg5+,Kb1,Ne5,Qg3,Qxg3,hxg3,c6', 'Ne7+,Kh8,Rxh7+,Kxh7,Rh1+,Bh3,Rxh3#', 'https://lichess.org/training/uoYcm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uOyl2', 'Classical', 'lightmat21', 1731, 'Dietryh', 1744, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bb4,a3,Bxc3,Bxc6,dxc6,bxc3,Bg4,d3,O-O,h3,Bxf3,Qxf3,c5,c4,h6,Bb2,c6,O-O,Qc7,Qg3,Nd7,f4,exf4', 'Qxg7#', 'https://lichess.org/training/uOyl2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uoYtR', 'Rapid', 'franckonjar', 1602, 'Ingvaris', 1799, 'e4,e5,f4,Bc5,Nf3,exf4,Bc4,d6,d4,Bb6,Bxf4,Bg4,O-O,Nf6,Nc3,O-O,Kh1,Nc6,d5,Ne5,Bxe5,dxe5,Qd3,Qe7,h3,Bh5,Na4,Bg6,Rae1,Nh5,Qc3,Ng3+,Kh2,Nxf1+,Rxf1,Bxe4,Nxe5,Qg5,Ng4,Bf5,Qe5,g6,Nf6+,Kg7,Ne4+,f6,Qe7+,Rf7,Qxf7+,Kxf7,Nxg5+,fxg5,g4,Kf6,gxf5,gxf5,Nxb6,axb6,Bd3,f4,Bxh7,Rxa2,b3,Ra5,Bg8,Rc5,Rf2,Ke5,Kg2,Ke4,Re2+,Kf5,Kf3,Rc3+,Kg2', 'f3+,Kf2,fxe2', 'https://lichess.org/training/uoYtR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UoZ8b', 'Rapid', 'yunusjohn', 2044, 'behnam_m', 1929, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,Be7,Re1,h6,Be3,Nf6,Nc3,O-O,Nxc6,bxc6,Bd3,Ng4,Bd2,Bf6,Ne2,Ne5,f4,Nxd3,cxd3,Bg4,Be3,Bxb2,Rb1,Bf6,h3,Be6,Qd2,Bh4,Rf1,c5,f5,Bd7,Nf4,Bg5,Rf3,f6,Ng6,Rf7,h4,Bxe3+,Qxe3,Be8,Rg3,Kh7,d4,cxd4,Qxd4,c5,Qc4,Rd7,Nf4,Bf7,Qe2,Qe8,Qg4,Qf8,Nh5,Bxh5,Qxh5,Qf7,Qf3,Qxa2,Rd1,Re8,Rd5,Qb1+,Kh2,Qxe4,Qh5,Qxd5', 'Qg6+,Kh8,Qxe8+', 'https://lichess.org/training/UoZ8b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uP0Qx', 'Classical', 'mukegile', 1689, 'aliBasha', 1743, 'c4,e5,Nc3,Nc6,d3,Bb4,g3,d6,Bg2,Bd7,Bd2,Bc5,a3,Qf6,Be3,Nd4,Rb1,Nh6,Bxb7,Rb8,Bf3,Nhf5,Ne4,Qe6,Nxc5,dxc5,Bd5,Qg6,Bxd4,cxd4,Nf3,f6,Qd2,c6,Be4,O-O,Nh4,Qh5,Nxf5,Bxf5,Bxc6,Kh8,O-O,Bh3,Bg2,Bxg2,Kxg2,Rf7,e4,f5,f3,f4,g4,Qg5,b4,h5,h3,Qh4,Qf2,Qg5,b5,Qg6,a4,Rf6,Qh4,Re6,Kh2,Qh6,gxh5,g5,Qe1,Qxh5,Rg1,Rh6,Qf1,a6,Rg4,Rb7,Qg2,Rbh7,h4,Rg7,Kh3', 'Qxh4+,Rxh4,Rxh4#', 'https://lichess.org/training/uP0Qx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uP1sR', 'Rapid', 'Sfide_Mentali', 2013, 'Cardiolog', 2074, 'e4,e5,Nf3,Nc6,d4,exd4,c3,Nf6,e5,Ne4,Bd3,d5,exd6,Nxd6,O-O,Be7,cxd4,Bg4,d5,Ne5,Qa4+,Qd7,Bb5,Nxb5', 'Nxe5,Qxd5,Nxg4', 'https://lichess.org/training/uP1sR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Up67c', 'Blitz', 'IM iakov98', 2636, 'Carnizeros', 2582, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,O-O,O-O,Re8,Bg5,h6,Bh4,Rb8,f4,Be7,Qf3,Rxb2,e5,Nd5,Bxe7,Qxe7,Nxd5,cxd5,Qxd5,Bb7,Qd4,Rb6,Rae1,d6', 'exd6,Qxe1,Rxe1,Rxe1+,Kf2', 'https://lichess.org/training/Up67c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('up7d6', 'Blitz', 'gazik', 1514, 'artisten', 1527, 'd4,g6,Nc3,Bg7,Nf3,b6,Bf4,Bb7,e3,d5,Bb5+,c6,Bd3,Nd7,O-O,Ngf6,Re1,Ng4,Qd2,e5,dxe5,Ngxe5,e4,Nxf3+,gxf3,O-O,exd5,cxd5,Bh6,d4,Ne4,Bxe4,Rxe4,Nf6,Bxg7,Nxe4,Bxe4,Kxg7,Bxa8,Qxa8,Qxd4+,Kg8,Kg2,Rd8,Qc3,Qd5,a3,Qg5+,Kf1,h5,Re1,Qb5+,Kg2,Rd5,f4,Qd7,f3,Rd2+,Kg3', 'h4+,Kxh4,Rxh2+,Kg3,Qh3#', 'https://lichess.org/training/up7d6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('up95c', 'Blitz', 'UOMORAGNO1', 1968, 'FM Sandstad', 2204, 'd4,c6,c4,d5,Nf3,Nf6,Nc3,e6,Bf4,Bb4,e3,Qa5,Qc2,Ne4,Rc1,Nd7,Bd3,f5,O-O,O-O,a3,Bxc3,bxc3,Qxa3,Ne5,Nxe5,Bxe5,Bd7,f3,Nf6,e4,fxe4,fxe4,Qe7,exd5,exd5,cxd5,cxd5,Bxf6,gxf6,Rce1,Qg7,Rf3,Kh8,Rg3,Qf7,Rge3,Rae8,Qf2,a5,Qb2,Bc6,Qb6,a4,Qc5,Rxe3,Rxe3,Re8,Rh3,f5,Qd6,Qe7,Qh6,Qe1+,Bf1,Qe7,Bd3,Qg7,Qh5,Rf8,Bxf5,a3,Bxh7,Be8,Bf5+', 'Bxh5,Rxh5+,Kg8,Be6+,Rf7', 'https://lichess.org/training/up95c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('upa1y', 'Rapid', 'AEsmae2', 1656, 'rhaomesdje1111', 1618, 'd4,d5,Nf3,e6,e3,a6,c4,c5,Nc3,Nc6,cxd5,exd5,Bd3,Nf6,O-O,Bg4,h3,Bxf3,Qxf3,cxd4,exd4,Nxd4,Qe3+,Ne6,Bf5,d4,Qe5,dxc3,Bxe6,fxe6,Qxe6+,Qe7,Qb3,cxb2,Bxb2,O-O-O,Rfc1+,Kb8,Qg3+,Qd6', 'Be5,Qxe5,Qxe5+', 'https://lichess.org/training/upa1y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('upaRq', 'Rapid', 'mesttru', 1970, 'MrSmileless', 2008, 'd4,Nf6,Nf3,c5,d5,e6,c4,d6,Nc3,exd5,cxd5,Bf5,e4,Nxe4,Nxe4,Bxe4,Qa4+,Nd7,Qxe4+,Be7,Bb5,Qa5+,Bd2,Qxb5,b3,Nf6,Qc4,Qxc4,bxc4,b5,cxb5,Nxd5,a3,O-O,O-O,Rab8,Rab1,Nc7,a4,Bf6,Rfe1,Nd5,Ba5,Bc3,Bxc3,Nxc3,Ra1,Nd5,Red1,Nb4,Rxd6,Rb7,Rc1,Rc8,Ne5,f6,Nd7,c4,b6,axb6,Nxb6,Rc5,Rxc4,Rxb6', 'Rd8+,Kf7,Rxc5', 'https://lichess.org/training/upaRq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UPb9u', 'Rapid', 'Thunder00', 1719, 'Albireo2000', 1812, 'e4,c5,Nf3,d6,c3,Nf6,Qc2,e6,d4,cxd4,cxd4,Be7,Nc3,O-O,Bd3,Nbd7,O-O,a6,e5,dxe5,dxe5,Ng4,Bxh7+,Kh8,Be4,Ndxe5,Nxe5,Nxe5,f4,Ng4,h3,Bc5+,Kh1,Nf2+,Rxf2,Bxf2,Qxf2,g6,Be3,Bd7,Qg3,Bc6,Bxc6,bxc6,f5,exf5,Bg5,f6,Qh4+,Kg8,Rd1,fxg5', 'Qc4+,Rf7,Rxd8+', 'https://lichess.org/training/UPb9u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('upbRy', 'Rapid', 'playinravi', 1916, 'chingylov', 1866, 'e4,c5,Nc3,d6,f4,e6,Nf3,a6,g3,Nf6,Bg2,Be7,d3,Nc6,Be3,O-O,h3,Rb8,g4,b5,O-O,b4,Ne2,Bb7,g5,Nd7,h4,f5,h5,fxe4,dxe4,Qe8,h6,gxh6,gxh6,Qh5,f5,exf5,exf5,Rxf5', 'Ng3,Qg6,Nxf5', 'https://lichess.org/training/upbRy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('upbzA', 'Rapid', 'Xazarin', 1746, 'Lucasnovaes', 1822, 'e4,c5,Nc3,d6,f4,Nf6,Bc4,e6,d3,Nc6,Nf3,Be7,O-O,a6,Qe1,b5,Bb3,Na5,f5,Nxb3,axb3,exf5,exf5,Bxf5,Bg5,O-O,Nh4,Bg6,Nxg6,fxg6,Qe6+,Kh8,Rae1,Re8,Qf7,Rf8', 'Qxe7,Qxe7,Rxe7', 'https://lichess.org/training/upbzA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Upd2j', 'Rapid', 'PAC3', 1864, 'pversc', 1958, 'd4,f5,c4,e6,Nf3,Nf6,g3,Bb4+,Nc3,Bxc3+,bxc3,O-O,Bg2,d6,O-O,Qe8,Ba3,Nbd7,Rb1,Rb8,Re1,Qh5,h3,Ne4,Qd3,Rf6,Nd2,Nxd2,Qxd2,Rh6,Qf4,g5,Qe3,Nf6,c5,Ne4,cxd6,Nxd6,Qe5,g4,h4,Qf7,Bxd6,cxd6,Qxd6,Ra8,Qd8+,Kg7,Bxb7', 'Bxb7,Qg5+,Rg6', 'https://lichess.org/training/Upd2j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Upd9I', 'Rapid', 'jacklouis', 1862, 'abinashchess', 1874, 'd4,c5,Nf3,cxd4,Nxd4,Nc6,Nf3,Nf6,Nc3,e5,e4,Bb4,Bd3,O-O,O-O,Re8,h3,d5,Bg5,Bxc3,bxc3,dxe4,Bxe4', 'Qxd1,Raxd1,Nxe4', 'https://lichess.org/training/Upd9I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uPEyq', 'Rapid', 'hans_schmidt', 2235, 'AltHans', 1827, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,Bg4,e4,Nb6,Be2,e6,O-O,Be7,Nc3,O-O,b3,a6,Be3,N8d7,Qd2,c5,d5,exd5,exd5,Nf6,Rfd1,Bd6,Rac1,Re8,h3,Bh5,Bg5,h6,Bf4,Ne4,Nxe4,Rxe4,Be3,Rc8,Qa5,Nxd5', 'Qxd8+,Rxd8,Rxd5', 'https://lichess.org/training/uPEyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uPfnq', 'Rapid', 'Hamza5577xvv', 1690, 'pawntodfour', 1707, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nbd7,Bg5,Be7,h3,c6,e3,O-O,Bd3,dxc4,Bxc4,Qb6,Bb3,Re8,O-O,c5,Rb1,cxd4,Nxd4,Nc5,Na4,Nxa4,Bxa4,Rd8,Qf3,Nd5,Bxe7,Nxe7,Bc2,Bd7,Qh5,Ng6,Bxg6,hxg6,Qh4,Qa5,a3,Qh5,Qe7,b6,Nf3,Bc6,Nd4,Rd7,Qb4,Bb7,Rbc1,Qg5,f3,Qxe3+,Kh1,Rxd4,Qe7,Ba6,Rfe1,Qb3,Rc7,Rf4,Rxa7,Rxa7,Qxa7,Bc4', 'Qb8+,Kh7,Qxf4', 'https://lichess.org/training/uPfnq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UpHdk', 'Rapid', 'mazter73', 1809, 'sabs', 1956, 'e4,e5,f4,Bc5,Nf3,d6,Bc4,Nf6,d3,O-O,c3,Bg4,a4,a6,Nbd2,exf4,d4,Ba7,O-O,Re8,Qb3,Re7,Qxb7,Nbd7,Kh1,c5,Qb3,Rb8,Qc2,a5,h3,Bh5,d5,Bg6,Bd3,Qe8,Re1,Ne5,Nxe5,Rxe5,Nf3,Re7,Bxf4,Rd8,Nd2,Nxd5,Bg3,Nf6,Nc4,Nxe4,Rxe4,Bxe4,Bxe4,Rxe4,Nxd6,Rxd6,Bxd6,Qc6,Bg3,c4,Rd1,Re8,Rd6,Qb7,Qf5,Bb8', 'Rd7,Qxd7,Qxd7', 'https://lichess.org/training/UpHdk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UpiD4', 'Rapid', 'crazyenginar', 1664, 'Fineapple4', 1626, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,Bg4,d5,Ne5,Bb5+,Nd7,O-O,Qb6,Qa4,Nf6,Be3,Qd8,Nd4,a6,Bd3,b5,Qa3,Nc5,e5,Nxd3,exf6,Ne5,fxg7,Bxg7,f3,Bd7,Nd2,O-O,Ne4,Nc4,Qb3,Nxe3,Qxe3,Qb6,Rad1,Rac8,Qg5,Kh8,Qe3,Rc4,Nc2,Qxe3+,Nxe3,Ra4,Nc3,Bxc3,bxc3,Rxa2,c4,bxc4,Nxc4,Bb5,Rc1,Rc8,Nb6,Bxf1', 'Rxc8+,Kg7,Kxf1', 'https://lichess.org/training/UpiD4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UPIp1', 'Rapid', 'nirro', 1818, 'jkguu', 1657, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Nxe5,Nd6,Qe2,Be7,O-O,O-O,Re1,Re8,Qf3,Bf6,d4,Nxc4,Bg5,Bxg5', 'Qxf7+,Kh8,Ng6+,hxg6,Rxe8+,Qxe8,Qxe8+', 'https://lichess.org/training/UPIp1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UPiRX', 'Rapid', 'ararseenarseen302', 1892, 'jox52', 1827, 'e4,g6,f4,Bg7,Nf3,e6,Be2,Nc6,c3,d6,O-O,Nce7,d4,c6,Re1,Nh6,Bf1,Qb6,Kh1,f5,exf5,Nhxf5,Ng5,e5,fxe5,dxe5,dxe5,Qf2,Re2,Qh4,Qb3', 'Ng3+,Kg1,Nxe2+,Bxe2,Qe1+', 'https://lichess.org/training/UPiRX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uPIvn', 'Rapid', 'lucas_freitas', 1816, 'ViperVernom', 1828, 'e4,e6,d4,Ne7,Nc3,Ng6,Nf3,Be7,Bd3,f6,O-O,O-O,e5,f5,Be3,Nc6,Qc1,Nb4,a3,Nxd3,cxd3,b6,Nb5,Bb7,Qxc7,Qxc7,Nxc7,Rac8,Rac1,Bc6,Na6,Bb5,Nb4,Bxb4,axb4,Bxd3,Rfd1,Be4,Nd2,Bd5,Nb1,f4,Bd2,Nh4,f3,Rc6,Rxc6,dxc6,Nc3,Bb3,Rc1,Nf5,Ne2,Bd5,Bxf4,b5,Bg3,Bc4,Rc2,Bd3,Rd2,Bxe2,Rxe2,Nxd4,Rd2,Rd8,Bf2', 'Nxf3+,gxf3,Rxd2', 'https://lichess.org/training/uPIvn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('upjCU', 'Rapid', 'RingelothwalterGM', 1971, 'oti108', 2135, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Ba5,Qg4,Kf8,Bd2,cxd4,Qxd4,Nc6,Qc5+,Nge7,Bg5,b6,Bxe7+,Nxe7,Qd6,Qxd6,exd6,Bxc3+,bxc3,Nf5,c4,dxc4,Rd1,Ba6,Nf3,Rd8,d7,Ke7,Ne5,Bb7,Bxc4,f6,Nf3,Bxf3,gxf3,Rxd7,Rxd7+,Kxd7,Ke2,Nd4+,Kd2,Nxf3+,Ke3,Ne5,Bb5+,Ke7,f4,Nd7,Rg1,g6,h4,Rc8,h5,Rg8,hxg6,hxg6,Rh1,Rg7,Rh8,Nc5,Ra8,Kd6,Rd8+,Kc7,Ra8,Kb7,Rf8,f5,Rf6,g5,fxg5,a6,g6,Kc8', 'Rf8+,Kc7,Rf7+,Kd6,Rxg7', 'https://lichess.org/training/upjCU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UpK5P', 'Blitz', 'RaphaelAndrews', 2114, 'Tololin20', 2108, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Ndb5,O-O,Nd5,Na6,Bd3,Bd7,Nbc3,Nc5,Bxc5,dxc5,O-O,Bc6,Bc4,a6,a4,Rb8,Nxf6+,Bxf6,Qe2,Bd4,Rab1,e5,Kh1,Kg7,Nd5,Qh4,c3,b5,axb5,axb5,cxd4,bxc4,dxe5,Rfe8,f4,Bxd5,exd5,Rbd8,Qxc4,g5,d6,g4,Qxc5,h5,Qd4,Kg8,Qd3,Rb8,Qf5,Re6,d7,Rd8,b4,Qe7,Qxh5,g3,h3,Rxd7,b5,Rd2,Qg4+,Rg6,Qf3,Qe6,Rg1', 'Qxh3+,gxh3,Rh2#', 'https://lichess.org/training/UpK5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('upLBS', 'Classical', 'mohdasalah', 1764, 'nishknyaev', 1725, 'd4,Nf6,Bf4,e6,c4,c5,d5,exd5,cxd5,c4,e3,Qa5+,Nc3,Ne4,Ne2,Bb4,Qc2,f5,a3,Bxc3+,Nxc3,Nxc3,Qxc3,Qxc3+,bxc3,O-O,Bxc4,d6,Bxd6,Rd8,Be5,Nd7,d6+,Kf8,Bd4,a6,Ba2,b5,O-O,Bb7,c4,Rac8,c5,Nxc5,Bxc5,Rxc5,Rfd1,Ke8,Be6,Re5,d7+,Ke7,Bb3,Rxd7,Rxd7+,Kxd7,Rd1+,Ke7,a4,Kf6,Rd7,Bc6', 'Rd6+,Ke7,Rxc6', 'https://lichess.org/training/upLBS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('upn7D', 'Rapid', 'onwd', 1845, 'Ibon1972', 1983, 'f4,c5,b3,d5,Bb2,e6,Nf3,Nf6,e3,Nc6,c4,Bd6,cxd5,exd5,a3,Be6,Bb5,O-O,Qc2,a6,Bxc6,bxc6,Ng5,h6', 'Bxf6,Bf5,Qxf5', 'https://lichess.org/training/upn7D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UpOCi', 'Rapid', 'PRado14', 1644, 'teajay', 1645, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,d5,Nd4,Bxd7+,Qxd7,Nxd4,exd4,Qxd4,Nf6,Nc3,Be7,O-O,O-O,f4,Ne8,g3,c5,dxc6,bxc6,e5,d5,Na4,Nc7,Nc5,Qf5,Qc3,Ne6,Nxe6,Qxe6,Be3,c5,Bxc5,Bxc5+,Qxc5,Rfc8,Qf2,a5,a4,Rab8,b3,Rc7,Rac1,Rbc8,Rfd1,f6,exf6,gxf6,Rd2,h5,h4,Kg7,Qg2,Kh6,Rxd5', 'Qe3+,Kh2,Qxc1', 'https://lichess.org/training/UpOCi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UPp1u', 'Classical', 'didiva09', 1729, 'RohamGheisari', 1647, 'd4,Nf6,Nc3,d5,e4,dxe4,f3,exf3,Nxf3,Nc6,Be3,Bg4,Bd3,e5,dxe5,Nxe5,O-O,Bb4,Bb5+,c6,Qxd8+,Rxd8,Be2,Bxc3,bxc3,Nxf3+,Bxf3,Bxf3,Rxf3,O-O,Bd4,Rd6,Bc5,Rd2,Bxf8,Kxf8,Rf2,Rd5,Rb1,Ne4,Rf4,Nxc3,Rxb7', 'Ne2+,Kf2,Nxf4', 'https://lichess.org/training/UPp1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uPrgc', 'Rapid', 'AugustoDipNiloy', 1787, 'Yric', 1774, 'e4,c5,Bc4,e6,Nc3,a6,a3,b5,Ba2,Bb7,d3,Nf6,Nf3,d5,exd5,Nxd5,Nxd5,Bxd5,h3,Bxa2,Rxa2,Nc6,a4,Bd6,axb5,axb5,Rxa8,Qxa8,O-O,O-O,Qe2,Nd4,Nxd4,cxd4,Qg4,f5,Qxd4,Bb8,b3,Qc6,Bb2,Rf7,c4,Qc7,f4', 'Ba7,Kh2,Bxd4', 'https://lichess.org/training/uPrgc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UPROn', 'Rapid', 'hubilai', 1716, 'Wolowizard1', 1792, 'e4,c5,Nf3,Nc6,Bc4,d6,c3,Nf6,d3,g6,Bg5,Bg7,Nbd2,O-O,O-O,Bg4,a4,a5,Rb1,Ne5,Ba2,Nxd3,Qe2,Ne5,Qe3,Nxf3+,Nxf3,Bxf3,Qxf3,Nd7,h4,Ne5,Qe2,h6,Be3,h5,Qd2,Qd7,f4,Ng4,f5,Nxe3,Qxe3,gxf5,Rxf5,b5,axb5,Qxb5,Rxh5,Qa4,Bd5,Rab8,Rf1,Rxb2,Qf3,Qc2,Rf2,Qxc3', 'Bxf7+,Rxf7,Qxf7#', 'https://lichess.org/training/UPROn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UPRXs', 'Blitz', 'thomasmoretti6', 1684, 'Muslim-AskMe', 1721, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Nf6,Bc4,Bb4,Bd2,d5,exd5,Bxc3,Bxc3,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,Bxe5,O-O,Bxf6,Rfe8+,Kf1,Qb5+,Kg1,gxf6,Qg4+,Kh8,b3,Rg8,Qf3,Rg6,h3,Rag8,Kh2,Qb8+,g3,Qe5,Rhe1,Qd6,Rad1,d4,Qe4,Rxg3,fxg3', 'Qxg3+,Kh1,Qxh3#', 'https://lichess.org/training/UPRXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uPScf', 'Rapid', 'Anacarl', 1720, 'krzysiekstasilas', 1794, 'e4,d5,exd5,Nf6,c4,e6,Qb3,exd5,cxd5,Qxd5,Bc4,Qxg2,Bxf7+,Kd8,Qf3,Qxf3,Nxf3,Nc6,d3,Bb4+,Kf1,Bh3+,Ke2,Bg2,Rg1,Bxf3+,Kxf3,Nd4+,Kg2,Nc2,a3,Nxa1,axb4,Nc2,Kf1,g6,Bd2,Ke7,Bc4,Rhf8,h3,Nd4,Rg3,Rae8,Bc3,Nf5,Rf3,Kd8,Nd2,Nd6,Bxf6+,Kc8,Bc3,Nxc4,Rxf8', 'Nxd2+,Bxd2,Rxf8', 'https://lichess.org/training/uPScf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Upu5j', 'Rapid', 'sborisov', 1822, 'echecsfous', 1820, 'e4,e6,f4,d5,exd5,exd5,Nf3,Bg4,Be2,Bd6,O-O,Ne7,h3,Bh5,g4,Bg6,f5,Nxf5,gxf5,Bxf5,Qe1,O-O,d3,Bxh3,Qh4,Qxh4,Nxh4,Bxf1,Bxf1,Nc6,c3,d4,Bd2,Rae8,Na3,dxc3,Bxc3,Bc5+,Kg2,Nd4,Nf3,Ne2,Bd2,Re7,Nc4,Rfe8,b4,Bd4,Rb1,Bf6,Na5,c6,a4,Nd4,Nxd4,Bxd4,Nb3,Be3,Bc3,Re6,Nc5,Rg6+,Kf3,b6,Ne4,Bh6,Re1,f5', 'Nf6+,Rxf6,Rxe8+', 'https://lichess.org/training/Upu5j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uPuuj', 'Rapid', 'forisco', 1818, 'Muleskinner', 1888, 'e4,e6,d4,d5,c4,dxe4,d5,Nf6,Nc3,Bb4,Qa4+,Nc6,dxc6,Bxc3+,bxc3,b6,Bg5,h6,Bxf6,Qxf6,Ne2,O-O,g3,Qf3,Rg1,e3,Rg2,e5,fxe3,Qxe3,Rf2,Bg4,c5,Rad8,Rd1,Qxc5,Qxg4', 'Rxd1+,Kxd1,Qxf2', 'https://lichess.org/training/uPuuj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uPVgc', 'Rapid', 'Viktor_Getman', 2170, 'osmanay', 2114, 'd4,Nf6,c4,d6,Nc3,g6,e4,Bg7,f3,O-O,Be3,e5,d5,c5,Bd3,a6,Nge2,Bd7,O-O,Qe8,a4,a5,Nb5,Bxb5,axb5,b6,b3,Nfd7,g4,Qd8,Bf2,Qg5,h4,Qe7,Ra2,f5,gxf5,gxf5,exf5,Bf6,Qe1,Kh8,Kh2,Rg8,Kh3,Nf8,Rg1,Qd7,Rxg8+,Kxg8,Qg1+,Kh8,Qg4,Ra7,Be3,Qe8,Ng3,Rg7,Qh5', 'Rxg3+,Kxg3,Qxh5', 'https://lichess.org/training/uPVgc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UPVkw', 'Rapid', 'lalexo', 1804, 'blasinus', 2234, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Nc6,O-O,Bd6,Re1+,Ne7,Nc3,O-O,Bxc6,bxc6,d3,Bg4,h3,Bh5,Bg5,f6,Bh4,Qd7,Bg3,Bxg3,fxg3,Bf7,Ne2,Nf5,g4,Ne3,Qd2,d4,c3,Rae8,cxd4,cxd4,Nexd4,Nd5,Rac1,Rxe1+,Rxe1,c5,Nb3,Qb5,Rc1,Rc8,Nfd4,Qa6,a3', 'cxd4,Rxc8+,Qxc8', 'https://lichess.org/training/UPVkw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('upvN6', 'Blitz', 'WinstonSchmidt', 1553, 'Jonathan_pirata', 1556, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Qf5,d3,c6,h3,Nf6,g4,Qa5,Bd2,h5,Ne4,Qd5,Nxf6+,gxf6,c4,Qxh1,Nf3,hxg4,hxg4,Bxg4,O-O-O,e5,Qe4,Bxf3,Qf5,Bxd1', 'Qc8+,Ke7,Bb4+,c5,Bxc5#', 'https://lichess.org/training/upvN6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uPwOH', 'Rapid', 'allex000', 1932, 'NdangizaNtare', 1893, 'f4,d5,Nf3,e6,e3,Nf6,b3,a6,Bb2,Nbd7,Be2,Bc5,O-O,O-O,Qe1,b5,Nc3,Bb7,Nd1,Bb6,Rc1,c5,c4,b4,Nf2,Ne4,Ng4,Ndf6,Nxf6+,Nxf6,Ne5,dxc4,Nxc4,Ba7,Bf3,Bxf3,Rxf3,a5,Rg3,Bb8,Qe2,a4,Ne5,axb3,axb3,Ra2,Nc4,Qe7,h4,Rd8,Rc2,g6', 'Bxf6,Qxf6,Rxa2', 'https://lichess.org/training/uPwOH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uPWRD', 'Rapid', 'gope', 1673, 'VIDALIK', 1845, 'e4,e5,Nf3,d6,Bc4,h6,d3,Nf6,Nc3,Nc6,a3,a6,b4,b6,Ba2,Nd4,Nxd4,exd4,Nd5,Nxd5,Bxd5,Rb8,Qh5,Qf6,O-O,Bd7,f4,g6,Qe2,c6,Ba2,Be6,e5,dxe5,fxe5,Qe7,Bxe6,Qxe6,Rf6,Qe7,Rxc6,Bg7,e6,O-O,exf7+,Qxf7,Bd2,Rbe8,Qf1,Qd5,c4,Qxc6,Qd1,Re6,Qg4,Qe8,h3,Re2,Bf4,g5,Bg3,Re3,c5,bxc5,bxc5,Qc6,Rb1,Rfe8,Bd6,Re2,Rf1,Ra2,h4,gxh4,Rf3,Ree2', 'Rf8+,Kh7,Qf5#', 'https://lichess.org/training/uPWRD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uPWZB', 'Rapid', 'simmaadithya', 1881, 'xx88', 1828, 'd4,d6,e4,g6,Nf3,Bg7,Be2,Nf6,O-O,O-O,Nc3,Bg4,h3,Bxf3,Bxf3,Nbd7,Be3,c5,d5,Ne5,Be2,a6,a3,b5,b4,c4,Qd2,a5,Bh6,axb4,axb4,Qb6,Bxg7,Kxg7,Kh1,h6,f4,Ned7,Bg4,h5,Bxd7,Nxd7,Qe2,e6,f5,Rxa1,Rxa1,exf5,exf5,Qd4,Ra3,Qb6,Qe7,Ne5,f6+,Kg8,Ne4,Qd4,Nxd6,Qxd5,Re3,Nc6', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/uPWZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('upX4Q', 'Rapid', 'Jcfarias1968', 1865, 'wojtekbrze', 1818, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,e6,Nd4,Qe5,O-O,Bd6,f4,Qxd4+,Kh1,Bxe2,Nxe2,Qe4,d3,Qf5,Ng3,Qc5,Qf3,Nc6,Be3,Qxc2,Rac1,Qxd3,Rxc6,bxc6,Qxc6+,Ke7,Qxa8,Qxe3,f5,Bxg3,hxg3,Qxg3,fxe6,fxe6,Qf8+,Kd7,Rd1+,Kc6,Qe8+,Kb7,Qb5+,Kc8,Qd7+,Kb7', 'Qb5+,Kc8,Qa6+,Kb8,Rd8#', 'https://lichess.org/training/upX4Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UPX8R', 'Rapid', 'DanielOjeda', 2111, 'PoneyMagique', 2077, 'd4,Nf6,Nf3,d5,c4,e6,Nc3,c6,e3,Bd6,Bd3,O-O,O-O,Nbd7,cxd5,cxd5,b3,b6,Bb2,Bb7,Rc1,Ne4,Nd2,Ndf6,f3,Nxc3,Bxc3,Qe7,Re1,Rfc8,Bb2,Rxc1,Qxc1,Rc8,Qb1,Bb4,Rd1,g6,Nf1,Kg7,e4,dxe4,fxe4,Bc3,Ng3,h5,Bxc3,Rxc3,Qb2,Qb4,Ne2,Rc7,d5,exd5,Rf1,d4,Nxd4,Qc3,Qf2,Qxd3,Qxf6+,Kg8', 'Qd8+,Kh7,Qxc7', 'https://lichess.org/training/UPX8R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UpXi0', 'Bullet', 'Wogner', 1782, 'THURAN15', 1800, 'd4,d5,c4,e6,Nc3,Bb4,e3,Bxc3+,bxc3,c6,Nf3,Nf6,Bd3,O-O,O-O,Nbd7,Qe2,a6,Ba3,Re8,Rfd1,Ne4,Rac1,f5,Nd2,Ndf6,f3,Nxd2,Rxd2,Qa5,Bb4,Qc7,Rb2,b5,cxd5,cxd5,a4,bxa4,Ra2,e5,Qe1,e4,Be2,exf3,Bxf3,Qd7,c4,dxc4,Bxa8,Bb7,Bxb7,Qxb7,Bc5,Qb3,Rac2,a3,Rxc4,a2,Qa5,Qxe3+,Kh1,Ne4,Qxa2,Nf2+,Kg1,Nh3+,Kh1,Nf2+,Kg1,Nh3+,Kh1', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/UpXi0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UpXWR', 'Bullet', 'Tokayto', 2070, 'frantmat', 2218, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,e6,Nge2,Be7,O-O,O-O,d4,Nxc3,Nxc3,c5,Be3,cxd4,Bxd4,Nc6,Be3,Qa5,Qe2,Ne5,Bb3,Ng6,Rad1,b6,Ne4,Ba6,Bc4,Bxc4,Qxc4,Rac8,Qb3,Qf5,Nd6,Bxd6,Rxd6,Qxc2,Qa3,Qc7,Rfd1,Rfd8,h3,Rxd6,Rxd6,h6,Qd3,Ne5,Qd4,Nc6,Qd2,Rd8,Rxd8+,Qxd8,Qc2,Qd5,b3,h5,Qe2,g6,Qa6,Qd7,Qa4,e5,b4,Qd5,b5,Na5,Qc2,Qc4,Qb2,f6,Bd2,Kf7,Bxa5,bxa5,b6,axb6,Qxb6,Qb4,Qc7+,Ke6,Qc8+,Kf7,Qd7+,Kg8,Qd8+,Kg7,Qc7+,Kh6,Qc1+,Qf4,Qc5,e4,Qf8+,Kg5,Qc5+,Qf5,Qc1+,Qf4,h4+,Kg4,Qd1+,Kf5,Qd5+,Qe5,Qd7+,Kf4', 'g3+,Kf3,Qd1#', 'https://lichess.org/training/UpXWR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('upyI8', 'Blitz', 'CM Davigator', 2376, 'CM MasterTol', 2383, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,a4,Rb8,d3,d6,Nc3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,Nxb3,cxb3,b4,Ne2,c5,Ng3,Ne8,Nf5,Bg5,Ne3,Bxe3,Bxe3,f5,f4,fxe4,fxe5,exd3,exd6,Qxd6,Rc1,Rc8,Rc4,Nf6,Qc1,Rfe8,Rd1,Ne4,Bf4,Qd5,Qe3,Nd6,Rxd3,Nxc4,Qxe8+,Rxe8,Rxd5,Nxb2,Rxc5,Nd3,Rc4,Re1+,Kh2,Rb1,Bd6,Rxb3,Rd4,Kf7,a5,Ke6,Bg3,Ra3,Rd6+,Kf5,Rxa6,Ke4,Bd6,Ra4,Ra7,Kd5,Bxb4,Nxb4,Rxg7,Rxa5', 'Rg5+,Ke4,Rxa5', 'https://lichess.org/training/upyI8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UpzjM', 'Rapid', 'MilosFil', 1603, 'denseman', 1607, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,Nf3,Nf6,O-O,Be7,e5,Nd5,Nxd5,exd5,Qxd5,O-O,Rd1,Qc7,Bf4,Nd8,Qd4,Ne6,Bxe6,dxe6,Rac1,Qa5,a3,b6,Qe3,Bc5,Qd3,Be7,b4,Qa6,Qc3,b5,Nd4,Bb7,Qd3,Rfd8,Qe2,Qxa3,Nxb5,Qxb4,Rb1,Qxf4,Nc7,Rxd1+,Qxd1,Rb8,Na6,Qe4,f3,Qe3+,Kh1,Bxa6,Rxb8+,Bf8', 'Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/UpzjM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uPZYh', 'Rapid', 'sachin_gadhvi', 1909, 'Nusret49', 1972, 'e4,e5,Nf3,Nc6,Bc4,Be7,d3,Nf6,O-O,d6,h3,O-O,Nc3,a6,a3,Be6,Nd5,Qd7,Ng5,Na5,Nxe6,fxe6,Nxe7+,Qxe7,Ba2,Kh8,f4,exf4,Bxf4,Nc6,Be3,Rf7,Bg5,Raf8,d4,h6,Bxf6,Rxf6,Rxf6,Qxf6,c3,e5,d5,Nd8,Qf1,Qf4,Re1,Kh7,Bc4,b5,Be2,Nb7,b4', 'Qe3+,Kh2,Rxf1', 'https://lichess.org/training/uPZYh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQ1DR', 'Blitz', 'IBR1979', 2099, 'Pa3pywuTeJlb', 2517, 'd4,Nf6,Nf3,g6,e3,Bg7,Be2,O-O,c4,d6,O-O,b6,Nbd2,Bb7,b3,Ne4,Bb2,Nd7,Qc2,Nxd2,Qxd2,e5,dxe5,Nxe5,Nxe5,dxe5,Rfd1,Qg5,Bf1,Bf3,Re1,Rad8,Qc3,Rd6,c5,bxc5,Qxc5,Rd2,Bc3,Rc2,Rac1,Rxa2,Qxc7,Qh4,g3,Qf6,Bb4,Be4,f4,exf4,gxf4,Qh4,Re2,Qg4+,Kf2,Qf3+,Ke1,Bd3,Rxa2', 'Qxf1+,Kd2,Qe2#', 'https://lichess.org/training/uQ1DR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQ1Ok', 'Rapid', 'Darksim42', 1689, 'RKest', 1677, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,Ng4,d4,exd4,h3,Nge5,Bg5,Nxf3+,Qxf3,f6,Bd2,Ne5,Qe2,Nxc4,Qxc4,d6,c3,dxc3,Nxc3,Qe7,b4,Bb6,Na4,Be6,Qd3,O-O-O,Nxb6+,cxb6,b5,Kb8,Qa3,Rc8,Bf4,Rhd8,Red1,Ka8,Bxd6,Qf7,Rd3,Bc4', 'Qxa7+,Kxa7,Ra3#', 'https://lichess.org/training/uQ1Ok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQ3kL', 'Rapid', 'dick_dastardly64', 1636, 'haleeim', 1813, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e6,Nc3,b5,Be2,Bb7,f3,g6,O-O,Bg7,Be3,Ne7,Qd2,h5,Rae1,Nbc6,Ndxb5,axb5,Nxb5,O-O,Bh6,Rxa2,Bxg7,Kxg7,Nd6,Rxb2', 'Qc3+,f6,Qxb2', 'https://lichess.org/training/uQ3kL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uq8ne', 'Rapid', 'Armstrong-s', 1720, 'pavel1973', 1744, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,Bd3,Nc6,Be3,O-O-O,O-O,Bxf3,Qxf3,Nxd4,Bxd4,Rxd4,Rfd1,e6,Ne4,Be7,Nd2,Qh5,Qxh5,Nxh5,Nf3,Rd5,c4,Rd6,Ne5,Rf8,Be2,Nf4,Bf3,f6,Rxd6,Bxd6,Ng4,Rd8,Rd1,Bc5', 'Bxb7+,Kxb7,Rxd8', 'https://lichess.org/training/Uq8ne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UqAgL', 'Rapid', 'ClaudioCamachoRodrig', 1982, 'Harsh_Legend08', 1965, 'e4,c5,Nf3,d6,c3,Nf6,Bd3,a6,Bc2,e5,d4,exd4,cxd4,Bd7,dxc5,dxc5,O-O,Be7,e5,Nh5,h3,g6,Bh6,Rg8,g4,Ng7,Bxg7,Rxg7,Nc3,Bc6,Qe2,Qc7,Rad1,Nd7,Be4,Nxe5,Bxc6+,Nxc6,Nd5,Qa5,Rfe1,f5,Ne5,Nxe5,Qxe5,Kf8,Nxe7,Qxa2,Nxg6+,hxg6,Rd8+,Rxd8,Qf6+,Rf7', 'Qh8#', 'https://lichess.org/training/UqAgL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UQbag', 'Rapid', 'koyenaing', 1983, 'Geralt27', 1980, 'e4,c6,a4,d5,exd5,cxd5,d4,Nc6,Nf3,Bg4,c3,Nf6,Be2,e6,O-O,h6,Bf4,Bd6,Ne5,Bxe2,Qxe2,Bxe5,dxe5,Nd7,Nd2,O-O,Nf3,Rc8,Qe3,Qb6,Bxh6,Qxe3,Bxe3,Ndxe5,Nxe5,Nxe5,Bxa7,Rc4,Bd4,Nc6,b3,Rxd4,cxd4,Nxd4,b4,Ra8,a5,Kh7,g3,Kg6,Rac1,e5,Rc5,Rh8,Rxd5,Kf5,h4,g5,hxg5,Ke4,Rd7', 'Nf3+,Kg2,Rh2#', 'https://lichess.org/training/UQbag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UqcdQ', 'Blitz', 'supreme1984', 1555, 'tony90zzz', 1531, 'd4,g6,e4,Bg7,Nf3,b6,Nc3,Bb7,Bc4,Nf6,e5,Ng8,Ng5,Nh6,O-O,O-O,f4,Nf5,Bd5,c6,Be4,e6,Nb5,d5,Bxf5,cxb5,Bd3,Bc6,Rf3,f6,exf6,Bxf6,Qe2,Bxd4+,Kh1,Bf6,Nxe6,Qe7,Nxf8,Qxf8,Bxb5,Bb7,Qe6+,Kh8,f5,d4,Rf1,g5,Bd3,Na6,Bd2,Nc5,Qc4,Ba6,Qd5,Nxd3,cxd3,Bxd3,Rf2,Rd8,Qb7,Re8,Rf3,Be4,Qxa7,Bxf3,gxf3,Re7,Qxb6,Re2,Bb4,Qd8,Qxd8+,Bxd8,Rb1,Bf6,Bc5,d3,Rd1,Rxb2,a3,d2,Kg2,Ra2,Kg3,Bc3,Kg4,Rc2,Kxg5', 'Rc1,Bd4+,Bxd4,Rxd2,Be3+', 'https://lichess.org/training/UqcdQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQfkn', 'Rapid', 'AproPoe', 2051, 'krivajaa', 2063, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,c4,g6,Nc3,Bg7,Be3,a6,Be2,Qa5,O-O,Nf6,a3,O-O,Qd2,Qc7,Rac1,Bd7,b4,Qd8,Rfd1,Rc8,f4,Nxd4,Bxd4,Bc6,Qe3,Qe8,e5,dxe5,Bxe5,h5,Kh1,Ng4,Bxg4,hxg4,Bxg7,Kxg7,b5,Bd7,Nd5,Be6,a4,axb5,axb5,Rh8,Nb6,Rd8,Rxd8,Qxd8,c5,Rh5,c6,bxc6,bxc6,Rb5,c7,Qd6,c8=Q,Bxc8,Nxc8,Qf6,Qxe7,Qxf4,Re1,Rf5,Qe2,Rh5,g3,Qxg3,Ne7', 'Rxh2+,Qxh2,Qxe1+', 'https://lichess.org/training/uQfkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UQGUl', 'Classical', 'G-Lebedincki1', 1888, 'antonio48', 1686, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Bd7,Be2,Nge7,O-O,Ng6,Nc3,a6,Bg5,Be7,h4,h6,Bxe7,Qxe7,g3,Qd8,Nh2,O-O,Ng4,Nge7,Ne3,Qb6,Nc2,Nf5,Na4,Qc7,Nc5,b6,Nxd7,Qxd7,Qd3,a5,Rad1,Qd8,Qb5,Na7,Qa4,Rc8,Ne3,Nxe3,fxe3,Nc6,Bb5,Ne7,Rc1,Nf5,Rxc8,Qxc8,Bd7,Qb8,Rf3,Qc7,Qc6,Qxc6,Bxc6,Rc8,Ba4,Rc1+,Kg2,Re1,Kf2,Rb1,b3,Rb2+,Ke1,Rxa2,h5,Rh2,g4,Nh4,Rf1,Rh3,Ke2,Rh2+,Kd3,Rh3,Be8,Nf3,Ke2,Kf8,Ba4,Ng5,Rc1,Rh2+,Kd3,Ne4', 'Rc8+,Ke7,Re8#', 'https://lichess.org/training/UQGUl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UqHHG', 'Blitz', 'endasan', 1636, 'Al3xturn3r', 1614, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Qe7,Qd5,Bxc3+,bxc3,Qa3,Bd2,Qe7,Bg5,f6,exf6,Nxf6,Bxf6,gxf6,e3,d6,Qh5+,Kd8,Nd4,Ne5,Qe2,Bg4,f3,Bh5,g4,Bf7,Qb2,Kd7,Qb4,Nxf3+,Nxf3,Qxe3+,Be2,Rhe8,Qb2,Qxf3,Rf1,Qxg4', 'Qb5+,Kd8,Qxe8+,Kxe8,Bxg4', 'https://lichess.org/training/UqHHG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UQHRF', 'Rapid', 'EleSim', 2016, 'josemariagomez', 2118, 'f4,c5,Nf3,d5,e3,a6,b3,b5,a4,b4,Bb2,Bb7,Be2,Nf6,O-O,Nbd7,Qe1,e6,Qg3,Qc7,Ne5,Ne4,Qh3,Ndf6,d3,Nd6,Bh5,O-O-O,Bxf7,Nxf7,Qxe6+,Rd7,Nxd7,Qxd7,Qxd7+,Kxd7,Nd2,Bd6,Nf3,h6,Ne5+,Ke7,Ng6+,Kd7,Nxh8,Nxh8,h3,Ng6,Rae1,Nf8,Rf3,Ne8,e4,d4,Bc1,Bc7,h4,Ng6,f5,Ne5,Rff1,h5,Bf4,Nf6,Bg5,Ke7,Bf4,Bc6,Bg5,Kf7,Bf4,Nfg4,Bg5,Bd6,Bf4,Be7,Bg5,Bf6,Bf4,Bxh4,g3,Bf6,Kg2,a5,Rh1,g6,fxg6+,Kxg6,Ref1,Bd7,Re1,Be6,Ref1,Ne3+,Bxe3,dxe3,Rxf6+,Kxf6,Rxh5,Bg4,Rh6+,Ke7,Rh7+,Kf6,Rh6+,Kg5,Ra6,Bf3+,Kf1,Ng4,e5,Nxe5,Rxa5,Kg4,Rxc5,Nf7,Rc7,Ng5,Rg7,Kf5,a5,Kf6,Ra7,Ne6,a6,Nd4,Rh7', 'e2+,Kf2,Nxc2', 'https://lichess.org/training/UQHRF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uqip7', 'Rapid', 'lucena', 1728, 'Muvi1', 1789, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Bd7,b3,Bb5,Bxb5+,Qxb5,Na3,Qc6,O-O,cxd4,cxd4,Ne7,Bg5,h6,Rc1,Qd7,Be3,Nf5,Nc2,Nc6,a3,Nxe3,fxe3,Be7,Nb4,Nxb4,axb4,Bxb4,Rc2,O-O,Ne1,Rac8,Rcf2,a5,Nd3,Qc7,Nf4,Qc3,Rf3,Qc2,Nh5,Qxd1,Rxd1,Rc3,Rb1,Rc2,Rg3,Bd2,Rxg7+,Kh8,Rg3,Rc1+,Rxc1,Bxc1,Kf1,Rg8,Rf3,Rg5,Ng3,Kg7,Ke2,Ba3,Kf2,b5,Kg1,Be7,e4,dxe4,Nxe4,Rf5,Rg3+,Kh7,Nc3,b4,Nb5,Rf4,h3,Re4,Rf3,Kg7,Rg3+,Bg5,Rd3,Re3,Rxe3,Bxe3+,Kh2,f6,exf6+,Kxf6,Kg3,Kf5,Kf3,Bf4', 'g4+,Kg5,h4+,Kxh4,Kxf4', 'https://lichess.org/training/uqip7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UqjWz', 'Rapid', 'kaxaber_xose', 1702, 'msn2017', 1734, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Bxc6,bxc6,O-O,h6,Be3,Bg4,h3,Bh5,g4,Bg6,dxe5,Bxe4,exd6,Bxd6,Re1,Ne7,Nc3,Bxf3,Qxf3,O-O,Rad1,Ng6,Ne4,Qh4,Nxd6,cxd6,Rxd6,Ne5,Qf4,Rae8,Qg3', 'Qxg3+,fxg3,Nf3+,Kf2,Nxe1', 'https://lichess.org/training/UqjWz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQm67', 'Rapid', 'HijoDeGibranTEAMO', 1686, 'TheCobra23', 1683, 'd4,e5,c4,exd4,Qxd4,Nc6,Qd1,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,O-O,Nf3,d6,h3,Ne4,Qc2,Nxc3,Qxc3,Be6,e3,Re8,Be2,Rb8,O-O,b6,Nd4,Nxd4,Qxd4,c5,Qc3,d5,cxd5,Qxd5,Rfd1,Qg5,Kf1,Bd5,f3,Rxe3', 'Rxd5,Rxc3,Rxg5', 'https://lichess.org/training/uQm67');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uqMnX', 'Rapid', 'rencepiguerra', 2024, 'Perry_Ode', 2181, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bd3,Bd6,c3,Bg4,h3,Bh5,O-O,Nge7,Bg5,f6,Bh4,Qd7,Nbd2,O-O-O,Bg3,g5,b4,g4,hxg4,Bxg4,b5,Nb8,Qa4,Bxg3,fxg3,Qd6,Qxa7,Qxg3,b6,Nf5,Bxf5+,Bxf5,bxc7,Qxc7,c4,Nc6,Qa4,Rhg8,cxd5,Rxd5,Rac1,Bh3', 'Qa8+,Qb8,Rxc6+', 'https://lichess.org/training/uqMnX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UQmsA', 'Blitz', 'IM Frutek', 2450, 'Pawn_Moto', 1937, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,e5,Nb3,d6,Be2,Be6,O-O,Nf6,f4,exf4,Bxf4,Be7,Kh1,O-O,Qd2,h6,Rad1,Kh7,Nd5,Bxd5,exd5,Ne5,Nd4,Rc8,Nf5,Ng8,Bxe5,dxe5,d6,Bf6,c3,g6,Ne3,Bg5,Qd3,Qb6,Nc4,Qc5,b4,Qb5,Nxe5,Qxe5,d7,Rcd8,Bf3,b5,Rfe1,Qc7,Bg4,Nf6,Bh3,h5,Qf3,Kg7,Rf1,Nxd7,Qd5,Nf6,Qxg5,Rxd1', 'Qxf6+,Kg8,Rxd1', 'https://lichess.org/training/UQmsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uqnkL', 'Blitz', 'FM sau6on', 2560, 'bkara', 2441, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,c4,c6,Nc3,Nf6,c5,Be7,Bd3,Bg4,h3,Bh5,Bf4,Nbd7,O-O,O-O,Qc2,Bg6,Bxg6,hxg6,Rfe1,Re8,b4,Nf8,a4,Ne6,Bh2,a6,Re2,Bf8,Rae1,Nh7,Qd3,Nhg5,Ne5,Nh7,Nxg6,Qf6,Nxf8,Nhxf8,Be5,Qg6,Qxg6,Nxg6,g3,Ng5,Kg2,Nxe5,Rxe5,Rxe5,Rxe5,Ne6,Ne2,a5,b5,cxb5,axb5,a4,Nc1,a3,Na2,Nxd4,Rxd5,Nxb5,Rd7,Rc8,Rxb7,Rxc5,h4,Nd6,Rb8+,Kh7,Ra8,Nc4,Ra4,Kg6,Nc3,Kf5,Nd1,Ke4,Ne3,Kd3', 'Nxc4,Rxc4,Rxa3+', 'https://lichess.org/training/uqnkL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UQntJ', 'Rapid', 'Ardena', 2034, 'Naamafantti', 2157, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Bg5,Bf5,Bxf6,gxf6,Qb3,Nc6,e3,e6,Qxb7,Qc8,Qb3,Nb4,Bb5+,Kd8,Rc1,Qb7,Nge2,a6,a3', 'Nd3+,Bxd3,Qxb3', 'https://lichess.org/training/UQntJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UQopu', 'Blitz', 'rauly9010', 1609, 'accetfaith', 1634, 'd4,d5,c4,c6,Nf3,e6,Nc3,dxc4,e4,b5,Be2,Bb7,a3,a6,O-O,Nf6,e5,Nd5,Bg5,Be7,Bxe7,Qxe7,h3,Nd7,Nd2,N7b6,Bf3,h6,Nce4,O-O,Qc2,Rad8,b3,cxb3,Nxb3,Nc4,Nbc5,Ncb6,Nd6,Rb8,Ndxb7,Rxb7,Nxb7,Qxb7,Rab1,Rd8,Qc5,Ne7,Rfd1,Nbd5,a4,Nf5,axb5,cxb5,g4,Rc8,Qa3,Rc3,Rb3,Rxb3,Qxb3,Nh4,Be4,Ng6,Rc1,Ngf4,Qc2,Nxh3+,Kh2,Nhf4', 'Qc8+,Qxc8,Rxc8#', 'https://lichess.org/training/UQopu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UqQ05', 'Rapid', 'PatwishDatFish1', 1953, 'zanzanzan1', 1878, 'e4,e5,Nc3,Nc6,Bc4,Bc5,Qg4,Qf6,Nd5,Qxf2+,Kd1,Nf6,Qxg7,Nxd5,Qxh8+,Bf8,exd5,d6,Be2,Nd4,c3,Nxe2,Nxe2,Bg4,Kc2,Qxe2,Qf6,Qe4+,d3,Qxg2+,Bd2,Qxd5,Rhg1,Be2,Rg3,Bh5,Rf1,Bg6,Bg5,Qxa2,Rg4,e4,Rxe4+,Bxe4,dxe4,Qe6,Qd4,c5,Qa4+,Qd7,Qxd7+,Kxd7,Rxf7+,Kc6,Rxh7,Re8,Rh8,Kd7,Bh6,Bxh6,Rxh6,Rxe4,Rh7+,Kc6,h4,b5,h5,a5,h6,Re2+,Kb3,c4+,Ka2,Rh2,Rh8,b4,h7,Kd5,Ra8,Rxh7,Rxa5+,Ke4,Rb5,b3+,Ka3,Rh2,Kb4,d5,Ka3,d4,cxd4,Kxd4,Rb8,Rc2,Rd8+,Ke3,Re8+,Kd2,Rd8+,Kc1,Rc8,c3,Kxb3', 'Rxb2+,Kxc3,Rc2+,Kd4,Rxc8', 'https://lichess.org/training/UqQ05');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UQQqw', 'Blitz', 'Colorado43', 2090, 'Xav971', 1974, 'c4,c5,Nc3,Nc6,g3,e6,Nf3,Nf6,Bg2,d5,cxd5,exd5,d4,cxd4,Nxd4,Bc5,Nxc6,bxc6,O-O,h6,b3,O-O,Na4,Bb4,Bd2,Bd6,Be3,Re8,Re1,Bg4,Bc5,Be5,Rc1,Qd7,Qc2,Rac8,Rcd1,Bf5,Qd2,Qc7,Qc1,Ne4,Bd4,c5,Bxe5,Qxe5,Qf4,Qxf4,gxf4,Nf6,e3,c4,Bxd5,Bc2,Rd2,cxb3,Bxb3,Bxb3,axb3,Ne4,Rd4,Rc2,b4,Re6,Nc5', 'Rg6+,Kf1,Rxf2#', 'https://lichess.org/training/UQQqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQrK4', 'Rapid', 'President_DonaldDuck', 1823, 'Dannes09', 1823, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Nbd7,Qd2,e6,f3,h6,g4,Be7,h4,Nh7,h5,Qc7,O-O-O,b5,Bxb5,axb5,Ndxb5,Qc6,Nxd6+,Bxd6,Qxd6,Qxd6,Rxd6,Ne5,Rf1,Ke7,Bc5,Ke8,Bd4,f6,Bxe5,fxe5,a3,Ke7,Rc6,Rd8,Rc5,Kf6,a4,Nf8,Rd1,Rxd1+,Kxd1,Ba6,b4,Bf1,a5,Nd7,Rc7,Ke7,Na4,Kd8', 'Rxd7+,Kxd7,Nb6+,Kc6,Nxa8', 'https://lichess.org/training/uQrK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQsaM', 'Classical', 'f_d', 1792, 'rajeshsri', 1789, 'd4,Nf6,c4,g6,Nc3,d6,Bf4,Bg7,e3,Nh5,Bg3,Nxg3,hxg3,O-O,Be2,c5,Bg4,f5,Bf3,cxd4,exd4,Nd7,Nge2,Nf6,Nf4,e5,dxe5,dxe5,Bd5+,Nxd5,Nfxd5,Be6,O-O,e4,Nf4,Bxc4,Re1,Bxc3,bxc3,Qa5,Qc2,Rad8,Rad1,Qxa2,Qxa2,Bxa2,Ra1,Rd2,Re2,Rfd8,Kf1,a6', 'Rxa2,Rxa2,Rxa2', 'https://lichess.org/training/uQsaM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uqsOb', 'Blitz', 'NM frostbitten', 2293, 'Rise', 2244, 'e4,d5,exd5,Nf6,d4,Bg4,Be2,Bxe2,Nxe2,Qxd5,O-O,Nc6,Nbc3,Qh5,Be3,O-O-O,Ng3,Qg6,Nb5,a6,a4,axb5,axb5,Nb4,c4,Qc2,Qf3,Qxc4,Ra8+,Kd7,Rxd8+,Kxd8,Qxb7,Qd5,Qb8+,Kd7,Rc1,Qd6,d5,g6,Rc6,Nxc6', 'bxc6+,Qxc6,dxc6+', 'https://lichess.org/training/uqsOb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UQT7q', 'Rapid', 'MiguelMariArtuneda', 1789, 'jordisolis', 1833, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bg6,Nf3,e6,O-O,c5,c3,Nc6,Be3,Nge7,dxc5,Nf5,Bd4,Be7,Nbd2', 'Nfxd4,Bxg6,Nxf3+', 'https://lichess.org/training/UQT7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UqTNa', 'Rapid', 'geraxion', 2047, 'QzI23', 2073, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,h6,Bh4,O-O,Bd3,Nbd7,Nge2,dxc4,Bxc4,c5,O-O,a6,Bb3,b5,Bc2,Bb7,f3,cxd4,Nxd4,Nb6,Qd3,g6,Rad1,Nc4,Qe2,Nxb2,Nxe6,Qb6,Nxf8,Nxd1,Nxg6,fxg6,Rxd1,Bc5,Bxf6,Qxf6,Kh1,Qxc3,Bxg6,Qxe3,Qf1,Qg5,Qd3,Bc6,Qb3+,Kh8,Qf7,Ra7,Qe6,Rd7,Qe8+,Kg7,Rxd7+,Bxd7', 'Qf7+,Kh8,Qh7#', 'https://lichess.org/training/UqTNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uqtvr', 'Rapid', 'LM PeshkaCh', 2331, 'Rin-chan', 2206, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Bg7,Be3,O-O,O-O,Nc6,Qd2,Ng4,Bxg4,Bxg4,Nd5,Ne5,Bg5,Re8,Nb5,Rc8,Ne3,Bf3,Bf4,Bxe4,Rfe1,a6,Nc3,Bc6,Rad1,b5,Ned5,Nc4,Qc1,a5,b3,Nb6,Qe3,Nxd5,Nxd5,Bxd5,Rxd5,b4,Qe2,Rc6,Qb5,Rxc2,Rxd6,Qc8,Rd2,Rd8,Rxc2,Qxc2,Qxa5,Rc8,h3,Bc3,Rxe7,Qd1+,Kh2,Qd4,Be5,Qxf2,Qc7,Bxe5+,Qxe5,Qc5', 'Re8+,Rxe8,Qxc5', 'https://lichess.org/training/Uqtvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQVcb', 'Rapid', 'el_phenomenius', 1791, 'Vauban89', 1911, 'd4,Nf6,c4,e5,dxe5,Ng4,Nc3,Nc6,e4,Ngxe5,Nf3,Bc5,Be2,O-O,O-O,d6,Bf4,Be6,Bxe5,dxe5,Nd5,a5,Qb3,Rb8,Rfd1,f6,Nf4,Qe7,Nxe6,Qxe6,Rd5,b6,Rad1,g5,h3,h5,Nh2,Nd4,Qe3,c6,R5xd4,exd4,Qf3,Kg7,Qxh5,Qxe4', 'Bd3,Rh8,Qxh8+,Rxh8,Bxe4', 'https://lichess.org/training/uQVcb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQVOJ', 'Blitz', 'jorkil', 1835, 'GardeAV', 1859, 'e4,c5,Nf3,e6,d4,d5,dxc5,Bxc5,exd5,Qxd5,Qxd5,exd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,O-O-O,Bf4,Ngf6,Nc3,h6,h4,Nb6,Rad1,Rhe8,Ne5,Re7,Nd3,Bd4,Nb5,Re4,Nxa7+,Kd7,c3,Nh5,cxd4,Nxf4,Nc5+,Kd6,Nxb7+,Kc7,Nxd8', 'Ne2+,Kh1,Rxh4#', 'https://lichess.org/training/uQVOJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQvuh', 'Rapid', 'ASiza', 1791, 'ForkofDemon', 1821, 'a3,e5,b3,Nc6,Bb2,d5,d3,Nf6,Nd2,Bd6,g3,O-O,Bg2,Be6,Ngf3,Qd7,O-O,Bh3,e3,Bxg2,Kxg2,Qg4,c4,e4,dxe4,dxe4,Bxf6', 'exf3+,Nxf3,gxf6', 'https://lichess.org/training/uQvuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQX5L', 'Rapid', 'milad97', 1693, 'abdelrahmanelkoptan', 1668, 'd4,d5,c4,dxc4,e4,b5,a4,Ba6,axb5,Bxb5,Nc3,c6,e5,e6,Nxb5,cxb5,Qf3,Bb4+,Bd2,Bxd2+,Kxd2,Ne7,Qxa8,O-O,Nf3,Qb6,Qe4,Nbc6,Be2,a5,Rab1,a4,b3,cxb3,Bd3,Qa5+,Ke3,g6,h4,Nd5+,Ke2,Nc3+,Ke3,Nxe4,Bxe4,Qc3+,Kf4,f5,Bxc6,Qxc6,h5,Qe4+,Kg5,Qg4+,Kh6,Qf4+,Ng5,gxh5,Rxh5,Qxf2,Rc1,b2,Rc7,Qe3,Rg7+,Kh8,Rxh7+,Kg8,Kg6,Qxg5+,Kxg5', 'b1=Q,Rh8+,Kf7,Rxf8+,Kxf8', 'https://lichess.org/training/uQX5L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQY9m', 'Classical', 'SaYHueQue', 2060, 'fede1313', 1778, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Nb6,d3,Nc6,Nf3,Be7,O-O,O-O,Be3,Be6,a3,a5,Rc1,Nd5,Nxd5,Bxd5,Qc2,Rc8,Rfd1,Bf6,d4,exd4,Nxd4,Nxd4,Bxd4,Bxg2,Bxf6,Qxf6,Kxg2,Rfd8,Rxd8+,Qxd8,e4,c5,Rd1,Qe7,Qc4,g6,b4,axb4,axb4,b5,Qd5,cxb4,Rd4,Qc5,Qxc5,Rxc5,Rxb4,Rc4,Rxc4,bxc4,Kf3,f5,exf5,gxf5,Ke3,Kg7,f3,Kg6,h4,Kf6', 'Kd4,c3,Kxc3', 'https://lichess.org/training/uQY9m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQygK', 'Rapid', 'Domovoi77q', 1899, 'mauriziospin', 1766, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Nc6,Nc3,Nxd4,Qxd4,Ne7,Bb5,a6,Ba4,b5,Bb3,Nc6,Qd1,Qc7,O-O,Bd6,f4,Bb7,e5,Bc5+,Kh1,Nd4,Be3,Nxb3,axb3,Bxe3,f5,Qc6,Qg4,Bh6,Rad1,exf5,Rxf5,Qe6,Rd6,Qe7,Ne4,Bxe4,Qxe4,Rc8,Rxa6,O-O,g4,Qc5,g5,g6,gxh6,gxf5', 'Qg2+,Kh8,Qg7#', 'https://lichess.org/training/uQygK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UqZh1', 'Rapid', 'RaizRyannRoxas', 2055, 'abdulvahid', 2044, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,Bb4,dxe5,Nxe4,Bd2,Nxd2,Qxd2,O-O,a3,Ba5,Bd3,d6,exd6,Re8+,Be2,Bg4,O-O,Bxc3,bxc3,cxd6,h3,Bh5,Rab1,Qc7,Rfd1,Rad8,Rb5,d5,Rdb1,b6,Nd4,Bxe2,Nxe2,Na5,Nf4,Nc4,Qc1,Re5,a4,a6,R5b4,Rde8,Nd3,Re2,Nf4,Rd2', 'Rxc4,dxc4,Qxd2', 'https://lichess.org/training/UqZh1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uQznB', 'Rapid', 'zafarkhankhan', 1883, 'Sallo2020', 1808, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,Bxd4,cxd4,d6,Nc3,Bd7,Bb5,O-O-O,d5,Ne5,Bxd7+,Rxd7,Bxa7,b6,Qa4,Nd3+,Kd2,Nc5,Qc6,Qxf2+,Kd1,Qd4+,Kc1,Nd3+,Kc2', 'Nb4+,Kb3,Nxc6', 'https://lichess.org/training/uQznB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uR4wT', 'Rapid', 'zpragnols', 1744, 'noobozerca', 1697, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Bxf7+,Kxf7,Ng5+,Ke8,Qh5+,g6,Qf3,Ne5,Qb3,Qf6,O-O,Be7,f4,Nf7,e5,Qf5,Na3,a6,h3,h5,Nc4,Ngh6,exd6,cxd6,Re1,Nxg5', 'Nxd6+,Kf8,Nxf5', 'https://lichess.org/training/uR4wT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ur5gI', 'Classical', 'hellpaw', 1662, 'FaroqRashied', 1610, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Nd5,d4,h6,Ne4,exd4,O-O,Be7,Qxd4,O-O,c4,Nf6,Be3', 'Qxd4,Bxd4,Nxe4', 'https://lichess.org/training/ur5gI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uR5mf', 'Classical', 'tomdeaap', 1687, 'sherifosman111', 1792, 'd4,Nf6,c4,c6,Nf3,d5,Bf4,e6,e3,Bd6,Bxd6,Qxd6,cxd5,exd5,Be2,O-O,Nc3,h6,Ne5,Nbd7,Nd3,Re8,Nf4,Nb6,h3,Bf5,O-O,Ne4,Nxe4,Bxe4,a3,g5,Nh5,Bg6,b4,Kh8,Bg4,f5,Be2,Qe7,Qb3,f4,Rae1,fxe3,f4,Rf8,fxg5,Rxf1+,Rxf1,Qxg5,Qc3,Bxh5,Bxh5,Qxh5,Qxe3,Re8,Qf4,Qg5,Qc7,Nc4,Rf7,Ne3', 'Rh7+,Kg8,Qf7#', 'https://lichess.org/training/uR5mf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ur6Hs', 'Rapid', 'Atak102', 1874, 'megatyp', 1941, 'e4,e6,d4,d5,Nc3,c5,f4,cxd4,Qxd4,Nc6,Qf2,Nf6,e5,Nd7,Be3,b6,O-O-O,Bb7,g4,Rc8,h4,Nb4,Bg2,Rc7,a3,Na6,Nb5,Rc8,Nxa7,Ra8,Nb5,Bc6,Nc3,b5,Nge2,b4,axb4,Bxb4,Rhf1,Qa5,Bd4,Qa1+,Kd2,Qxb2,f5,Ba4,Rc1,exf5,gxf5,Rc8,Bxd5,Ndc5,Bxf7+,Kxf7,e6+,Ke8,Bxg7,Nb3+,Ke3,Bxc3,Nxc3,Rxc3+,Bxc3,Qxc3+,Kf4,Nxc1,Rxc1,Rf8,e7,Qc7+,Kg4,Qxe7', 'Re1,Bd7,Rxe7+', 'https://lichess.org/training/Ur6Hs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ur7tX', 'Rapid', 'DanielKarpov', 1816, 'ZORAN55', 1830, 'e4,e5,Nf3,Qf6,d4,exd4,Bc4,h6,O-O,c6,c3,b5,e5,Qe7,Bxb5,cxb5,cxd4,Bb7,d5,Qc5,Nc3,b4,Be3,Qc4,Nd2,Qd3,e6,dxe6,Qa4+,Nd7,Nb5,Ke7,Qxb4+,Kf6,Qh4+,Kg6,dxe6,Qd5,Qg3+,Kh7,Nc7,Qc6,exd7,Bd6,Qg4,Bxc7,Rac1,Qd6,Rxc7,Qxc7', 'Qf5+,g6,Qxf7#', 'https://lichess.org/training/Ur7tX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uR9Hf', 'Classical', 'lightars', 1748, 'Qwasdfzxcvbn', 1712, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,h6,d3,Nf6,O-O,d6,Na4,Bb6,Nxb6,axb6,Be3,g5,a3,g4,Nd2,h5,Bg5,Rg8,Bh4,Nd4,c3,Ne6,f3,Nf4,Qb3,Rg7,g3,Ng6,f4,exf4,gxf4,Nxh4,e5,dxe5,fxe5,Nf3+,Nxf3,gxf3+,Kh1,Nd7,Rxf3,Nxe5,Re1,f6,Rxe5+,fxe5,Bf7+,Ke7,Qb4+,Qd6,Qh4+,Kd7,Rf6,Qe7,Be6+,Ke8', 'Qxh5+,Kd8,Qh8+', 'https://lichess.org/training/uR9Hf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ur9I9', 'Classical', 'chirag309', 1721, 'thander2311', 1646, 'e4,e5,Nf3,Nc6,Bc4,Be7,Nc3,Nf6,d3,a6,Ng5,O-O,h4,h6,Nh3,d6,Qf3,Bg4,Qg3,h5,f3,Be6,Bh6,Ng4,fxg4', 'Bxh4,Qxh4,Qxh4+', 'https://lichess.org/training/Ur9I9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UrbFX', 'Rapid', 'colpadan', 1645, 'LuckyCent', 1651, 'e4,c5,d4,cxd4,Nf3,Nc6,c3,Nf6,Bd3,e5,cxd4,Nxd4,Nxd4,exd4,O-O,d5,Qa4+,Bd7,Qxd4,dxe4,Bxe4,Nxe4,Qxe4+,Be7,Qxb7,O-O,Qf3,Rc8,Be3,Bc6,Qg3,Bd6,Qg4,Bb5,Bh6,g6,Qd4', 'Bxh2+,Kxh2,Qxd4', 'https://lichess.org/training/UrbFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('urcBC', 'Rapid', 'ayknight', 1910, 'pmateu8', 1914, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,h6,Be3,Bb6,Qd2,d6,h3,Be6,Bb3,Qd7,Nd5,Nd4,Nxf6+,gxf6,Bxd4,exd4,Bxe6,fxe6,O-O-O,e5,Nh4,Qa4,Kb1,Ba5,Qe2,O-O-O,Nf5,Qb5,Ka1,d5,Ne7+,Kb8,Nxd5,Rd6,f4,Ra6,fxe5,fxe5,Rhf1,c6,Qh5,Rc8,Ne7,Bc3,bxc3,dxc3,Rb1', 'Rxa2+,Kxa2,Qa4#', 'https://lichess.org/training/urcBC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('urfGF', 'Rapid', 'Sholanda', 1645, 'Vygantas', 1660, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nb3,Nf6,Nc3,g6,Bd3,Bg7,Bd2,O-O,O-O,Bg4,f3,Be6,Be3,a6,Nd4,Qc7,Nxe6,fxe6,Qd2,d5,Bh6,d4,Ne2,e5,Bxg7,Kxg7,a3,b5,b4,e6,Nc1,Nh5,Nb3,Nf4,Nc5,Qe7,Rac1,Qg5,c4', 'Nh3+,Kh1,Qxd2', 'https://lichess.org/training/urfGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uRfSy', 'Rapid', 'gregyH7', 2003, 'ujjwaldeepgupta', 2090, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,Nc3,Bg4,h3,Bh5,O-O,Nbc6,Be2,Bg6,Nb5,Qd7,a4,f6,Re1,Bf7,Nxd6+,Qxd6,b3,g5,Ba3,Qd7,Bb5,Be6,Qe2,Kf7,Nh2,h5,Rad1,Ng6,a5,Rae8,Qd2,a6,Ba4,g4,hxg4,hxg4,Qc3,Rh7,Nf1,Reh8,Ng3,Nh4,Kf1,Nf5,Nxf5,Bxf5,Re7+,Qxe7,Bxe7,Nxe7,Qxc7,g3,fxg3', 'Rh1+,Ke2,Bg4+', 'https://lichess.org/training/uRfSy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uRgTr', 'Rapid', 'monello55', 1807, 'ziyaretci64', 1755, 'd4,g6,Bf4,Bg7,e3,b6,Bd3,Bb7,Nf3,d6,h4,h5,c3,Nd7,Qc2,Ngf6,Bxg6,fxg6,Qxg6+,Kf8,Ng5,Qe8', 'Ne6+,Kg8,Qxg7#', 'https://lichess.org/training/uRgTr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uRHcU', 'Rapid', 'haldersrirup2009', 1675, 'RKKOLI', 1669, 'd4,g6,e3,Bg7,Nf3,Nf6,Bc4,d5,Bb3,O-O,O-O,Nc6,Nc3,e6,Ne5,Na5,Re1,Nxb3,axb3,a6,g3,b6,h4,c5,dxc5,bxc5,Nc6,Qc7,Na5,Ne4,Nxe4,dxe4,Bd2,Bxb2,Rb1,Be5,f4,Bf6,c4,Bg7,b4,cxb4,Bxb4,Rd8,Qb3,e5,Red1,Rxd1+,Rxd1,exf4,Qa4,fxe3', 'Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/uRHcU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uRIqP', 'Rapid', 'King1683', 1793, 'Svetlanna', 1861, 'e4,g6,d4,Bg7,e5,d6,f4,f6,Bc4,dxe5,fxe5,fxe5,Qf3,e6,Nh3,h6,O-O,Qxd4+,Be3,Qd7,Nc3,Nf6,Rad1,Qe7,a3,O-O,b4,b6,Qxa8,Bd7,Qxa7,e4,Nf4,Kh7,Bd4,e5,Bxe5,Qxe5,Ncd5,Ng4,h3,Nc6,Qxc7,Qxc7,Nxc7,Bd4+,Kh1,Ne3,Rxd4', 'Nxd4,Nxg6,Rxf1+', 'https://lichess.org/training/uRIqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Urivz', 'Rapid', 'yazan_94', 1568, 'RealAmbition', 1568, 'g3,d5,Bg2,e5,e4,Nf6,d3,d4,Nf3,Nc6,c3,Be6,cxd4,Nxd4,Qa4+,Nc6,Nxe5,Bb4+,Bd2,Bxd2+,Nxd2,Qd6,d4,Bd7,Ndc4,Qxd4,Rd1,Qc5,b4,Qxb4+,Qxb4,Nxb4,O-O,O-O-O,Nxf7,Be6,Nce5,Rxd1,Rxd1,Rf8,Ng5,Bxa2,Nxh7,Nxh7', 'Bh3+,Kb8,Nd7+,Ka8,Nxf8', 'https://lichess.org/training/Urivz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uRjgW', 'Blitz', 'igorboroda', 1767, 'Kaspatroz', 1746, 'e4,d6,Bc4,Nf6,Qf3,g6,Ne2,Bg7,Nbc3,O-O,d3,Nbd7,h4,Ne5,Qg3,Nh5,Qe3,Ng4,Qd2,Bh6,f4,Ngf6,Qd1,Bg4,Be3,c6,Qd2,Rc8,O-O-O,d5,exd5,cxd5,Bb3,Ng3,d4,Rxc3,Nxc3,Bxd1,Rxd1,Nfe4,Nxe4,Nxe4,Qe2,Qd7,g4,Ng3,Qf3,Ne4,g5,Bg7,h5,a5,h6,Bh8,Rf1,a4,f5,axb3,fxg6,bxa2', 'gxf7+,Rxf7,Qxf7#', 'https://lichess.org/training/uRjgW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('urKGv', 'Blitz', 'Gwynblaidd', 1602, 'kootas69', 1599, 'd4,e6,c4,c5,Qa4,cxd4,Bf4,Bc5,Nf3,Qf6,Be5,Qf5,Bxg7,Nc6,Bxh8,Nb4,Na3,Nf6,Nh4,Qe5,g3,d3,Nf3,Qxb2,Rb1,Qc3+,Nd2,Nc2+,Nxc2,dxc2,Rc1,Bb4,Rxc2', 'Qa1+,Rc1,Qxc1+,Qd1,Bxd2#', 'https://lichess.org/training/urKGv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('URlSe', 'Blitz', 'Maratqr', 2102, 'IvoryRedLama', 2240, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qf3,bxc6,Nc3,Qxf3,gxf3,Nf6,Bh3,d5,Bxc8,Rxc8,Rg1,g6,Bg5,Bd4,O-O-O,Bxc3,bxc3,Nh5,exd5,cxd5,Rxd5,O-O,f4,Rfe8,f5,Re2,fxg6,hxg6,Be3,Nf6,Rd4,c5,Ra4,Nd5,Rxa7,Nxc3,Rg5,Ne4,Rd5,Re1+,Rd1,Re2,Rdd7,Rb8,Kd1', 'Nc3+,Kc1,Rb1#', 'https://lichess.org/training/URlSe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UrmYo', 'Rapid', 'metallist1975', 2223, 'solar-gem', 2067, 'd4,g6,c4,Bg7,Nc3,c5,Nf3,cxd4,Nxd4,Nc6,e3,Nf6,Be2,O-O,b3,Nxd4,exd4,d5,c5,b6,Bd2,bxc5,dxc5,d4,Nb5,e5,Nd6,e4,Bc4,Ng4,O-O,Qh4,h3,Ne5,Bd5,Bxh3,Bxe4,Rad8,gxh3,Rxd6,cxd6,Qxe4,f4,Qd3,fxe5,Qg3+,Kh1,Qxh3+,Kg1,Qg3+,Kh1,Bxe5,Qe2,d3,Qg2,Qh4+,Kg1,Bd4+,Rf2,Bxa1,Rf4,Qh5,Qf3,Bd4+,Kf1,Qe5,Qxd3,Bb6,Kg2,h5,Re4,Qf5,Be1,Rd8,Bh4,Rd7,Re8+,Kg7,Qc3+,f6,Bxf6+,Qxf6,Rg8+,Kf7,Rf8+,Kxf8,Qxf6+,Rf7,Qxg6', 'Rg7,Qxg7+,Kxg7', 'https://lichess.org/training/UrmYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('URoE5', 'Bullet', 'PlanMaestro', 1966, 'Oka_satria', 2145, 'e4,g6,d4,d6,Nc3,Bg7,Nf3,a6,Bd3,b5,a3,Bb7,Qe2,Nd7,O-O,c5,dxc5,Nxc5,Bf4,Rc8,Rad1,Nf6,e5,Nh5,Bg5,h6,Bh4,O-O,exd6,Qxd6,Bxe7,Qb8,Bxf8,Rxf8,Rfe1,Nf4,Qe7,Ncxd3,cxd3,Qc8,Ne4,Qg4,Ng3,Bxf3,gxf3,Qxf3,Qe4', 'Nh3+,Kf1,Qxf2#', 'https://lichess.org/training/URoE5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uroEy', 'Rapid', 'Kaznachei81', 1754, 'CPrins2', 1726, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,Nbd2,c6,c3,d5,Bd3,Bg4,Qc2,Nbd7,h3,Bxf3,gxf3,Rc8,e4,e5,dxe5,dxe4,fxe4,Nh5,Bh2,Bxe5,Bxe5,Nxe5,Be2,Nf4,Bg4,Nxg4,hxg4,Nd3+,Ke2,Nf4+,Kf1,Qb6,Rh2,Rcd8,Qc1,Nd3,Qc2,Qc7,Nf3,Qf4,Qe2,Rfe8,Qe3,Qxg4,Qh6,Qxf3,Qxh7+,Kf8,Qh6+,Ke7,Qg5+,f6,Rh7+,Ke6,Qh4,g5,Qg3,Qxg3,fxg3,Nxb2,Ke2,Ke5,Rxb7,Nc4,Rxa7,Kxe4,Ra4,Rd2+,Kf1,Kd3,Rc1,Rh8,Kg1,Rdh2,Rd1+,Kxc3,Rc1+,Kd3,Rcxc4,Rh1+,Kg2,g4,Rxg4', 'R8h2+,Kf3,Rf1#', 'https://lichess.org/training/uroEy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('urSlC', 'Classical', 'davidbees', 1648, 'Abdo_Awad', 1875, 'Nf3,d6,d4,Nf6,c4,e6,Nc3,Be7,e4,O-O,Bd3,Nbd7,O-O,c5,d5,exd5,Nxd5,Nxd5,cxd5,h6,Re1,a6,e5,dxe5,Nxe5,Bf6,Ng4,Bd4,Bxh6,Nf6,Nxf6+,Qxf6,Be3,Bxb2,Rb1,Ba3,Rb3,Bb4,Re2,Bg4,f3,Bd7,a3,Bc3,Rxb7,Qd6,Rb1,Rfe8,Bd2,Bd4+,Kh1,Qxd5,Be3,Qe6', 'Bxd4,Qxe2,Bxe2', 'https://lichess.org/training/urSlC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uRunY', 'Rapid', 'Goku_Ultra_Instinct', 1962, 'wherepigsfly', 1930, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,Nf6,Nd6+,Bxd6,Qxd6,Qa5+,Qd2,Nxe4,Qxa5,Nxa5,Bd2,Nxd2,Nxd2,Nc6,Nc4,O-O,Nd6,Nd4,O-O-O,b6,c3,Ne6,Nxc8,Rfxc8,Rxd7,Nc5,Re7,Kf8,Rxe5,f6,Re3,a6,g3,Ra7,Bh3,Rd8,Kc2,b5,f4,Rc7,Rhe1,a5,Bf1,b4,Bb5,Kf7,f5,g6,Bc4+,Kg7,Re7+,Rxe7,Rxe7+,Kh6,fxg6,hxg6,cxb4,axb4,Rc7,Ne4,Kb3,Rb8,Bd3,Nd2+,Kc2,Nf3,Rc6', 'Nd4+,Kd2,Nxc6', 'https://lichess.org/training/uRunY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uRV7B', 'Rapid', 'Kox_Antek', 1617, 'ManGDani', 1617, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nge7,Nxc6,dxc6,Bxc5,Qxd1+,Kxd1,Ng6,Nc3,Nf4,Bc4,b5,Bd3,Bb7,e5,Nd5,Nxd5,cxd5,Re1,O-O-O,Bf5+,Kb8,e6,fxe6,Rxe6,d4,Ke1,Bxg2,Ra6,Rhf8,Bxh7,Rfe8+,Kd2,Kb7,Rxa7+,Kc6,Bb4,Kb6,Ra5,c5,c3', 'dxc3+,Kxc3,cxb4+,Kxb4,Rd4+', 'https://lichess.org/training/uRV7B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('urWFn', 'Classical', 'ladycoucou', 1691, 'oktavian2200', 1618, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Bc4,f6,Qb3,Ne7,Bf7+,Kd7,Be6+,Ke8,O-O,Nbc6,Qxb7,Nd4,Rd1', 'Ne2+,Kf1,Qxd1#', 'https://lichess.org/training/urWFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('urWPK', 'Rapid', 'zmedhat14', 1713, 'damdam999', 1685, 'e4,g6,d4,Bg7,c3,d6,Nf3,Nd7,Bd3,e5,O-O,Ne7,dxe5,Nxe5,Nxe5,Bxe5,f4,Bg7,e5,dxe5,fxe5,O-O,Qe2,Nf5,Kh1,a6,Nd2,b6,Ne4,Bb7,Nf6+,Bxf6,exf6,Qxf6,Bxf5,gxf5,Qh5,Be4,Bh6,Rfe8,Rad1,Kh8,Rd7,Rg8,Rf2,Qc6,Bg5,Qxd7,Bf6+,Rg7,h3,Rg8,Qh6,Qd1+,Kh2,Qe1,Rd2,Qf1,Bxg7+,Rxg7', 'Rd8+,Rg8,Qf6#', 'https://lichess.org/training/urWPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uRWxE', 'Rapid', 'randomalbumtitle', 1631, 'dap31', 1671, 'e4,e6,Nf3,d5,exd5,exd5,d3,Nf6,Bg5,Be7,Nd4,O-O,Qf3,Re8,Be2,c5,Nf5,Bxf5,Qxf5,d4,O-O,Nbd7,Bf3,Rb8,Nd2,h6,Bh4,Qc7,Ne4,Nxe4,Bxe4,Bxh4,Qh7+,Kf8,Rfe1,Ne5,g3,Bf6,f4,Ng6,Bxg6,Rxe1+,Rxe1,fxg6,Qxg6,Qf7,Qh7,Qg8,Qf5,b6,Qd7,Qxa2', 'Qd6+,Kg8,Qxb8+', 'https://lichess.org/training/uRWxE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('urxib', 'Rapid', 'Whoimi', 1721, 'jun_manlapaz', 1740, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Nc3,Ng4,O-O,Nf6,Bg5,d6,h3,h6,Bh4,g5,Bg3,Be6,Nd5,a6,Nxf6+,Qxf6,Nh2,Bxc4,dxc4,O-O-O,a3,h5,b4,Bd4,b5,Bxa1,bxc6,Bd4,cxb7+,Kxb7,c3,Bxc3', 'Qb3+,Ka7,Qxc3', 'https://lichess.org/training/urxib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('US0Tx', 'Rapid', 'bytbox', 1765, 'JA178', 1756, 'e4,c5,Nf3,e6,Bc4,Nc6,Nc3,a6,a3,Qc7,O-O,Nf6,d3,b5,Ba2,Bb7,Bg5,Be7,Re1,d6,Ne2,Nd7,Bxe7,Kxe7,d4,cxd4,Nexd4,Nxd4,Qxd4,e5,Qd3,Rac8,c3,Nf6,Nd2,Qc6,f3,Rhd8,Nb3,Kf8,Na5', 'Qb6+,Qe3,Qxa5', 'https://lichess.org/training/US0Tx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Us1A0', 'Classical', 'Tom_Ash', 1842, 'tingod', 2091, 'e4,Nf6,e5,Nd5,c4,Nb6,f4,d6,d4,Nc6,a4,dxe5,dxe5,Qxd1+,Kxd1,Bf5,Nc3,O-O-O+,Ke1,Nd4,Ra2,Bc2,a5,Nd7,Be3,Nc5,Bxd4,Rxd4,b4,Nd3+,Bxd3,Bxd3,Rd2,e6,Nf3,Rxc4,Rxd3,Bxb4,g3,Bxc3+,Ke2,Bxa5,Ng5,Rc2+,Kf3,f5,Nxe6,Bb6,Rf1,h6,Nxg7,h5,h4,Rh2,Nxf5,Bc5,e6,Re8,Re1', 'Rf2+,Ke4,Rxe6+,Kd5,Rxe1', 'https://lichess.org/training/Us1A0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('US1Gd', 'Rapid', 'Pmscci', 1650, 'Haleonix', 1703, 'd4,Nf6,Nf3,e6,c4,c5,Bg5,h6,Bh4,g5,Bg3,Bg7,e3,Nc6,Nc3,b6,a3,a5,Be2,Bb7,Nb5,O-O,Bd6,Re8,Bc7,Qc8,Bxb6,g4,Nd6,Qb8,Nxe8,Nxe8,Ne5,Nxe5,dxe5,Bxg2,Rg1,Bh3,Bxc5,Qxe5,Bd4,Qxh2,Kd2,Bxd4,exd4,Qxf2,Kc3,Nf6,Bd3,Nd5+,cxd5,Rc8+,Kb3,Rb8+,Ka4,Qxd4+,b4', 'Rxb4+,axb4,Qxb4#', 'https://lichess.org/training/US1Gd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uS2PP', 'Blitz', 'rubenadolfo', 2071, 'manug74', 2110, 'd4,Nf6,Bg5,g6,Bxf6,exf6,c4,Bg7,e3,f5,g3,O-O,Bg2,c6,Ne2,d6,Nbc3,Nd7,O-O,Nf6,Qd3,Re8,b4,a6,Rab1,Bd7,a4,Qe7,b5,axb5,axb5,Ne4,bxc6,bxc6,Rb7,Reb8,Rfb1,Rxb7,Rxb7,Ra1+,Nb1,c5,Bxe4,fxe4,Qc3,Ra2,Qb3,Rxe2,Qb6,cxd4,Rb8+,Bf8,Qxd4,Bh3,Qd1,Ra2,Nc3,Ra3,Nd5,Qa7,Rb1,h5,f3,exf3,Qxf3,Bh6,Nf6+,Kg7,Ne8+,Kf8,Nxd6,Rxe3,Rb8+,Kg7,Ne8+,Kh7', 'Nf6+,Kg7,Rg8#', 'https://lichess.org/training/uS2PP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uS3wo', 'Classical', 'Kurosu_Hibiki', 1784, 'Lupsa68', 1891, 'e4,e5,Nf3,Nf6,Bc4,Nc6,d3,Bc5,Bg5,O-O,Nbd2,d6,h3,a6,Qe2,Qe7,O-O-O,Be6,Nb1,Bxc4,dxc4,b5,cxb5,axb5,Qxb5,Qd7,Nc3,Rfb8,Qc4,Na5,Qe2,Rxb2,Kxb2,Rb8+,Kc1,Ba3+,Kd2,Qc6,Bxf6,gxf6,Qd3,Bb4,Rb1,Nc4+,Kc1', 'Ba3+,Kd1,Rxb1+,Nxb1,Nb2+,Ke2,Nxd3', 'https://lichess.org/training/uS3wo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('us45f', 'Rapid', 'WadeWilson', 2001, 'dddd22332', 1860, 'Nf3,d5,c3,e6,d4,Nf6,Bf4,Be7,e3,O-O,Bd3,Nbd7,h3,a6,Nbd2,h6,Qe2,c5,e4,dxe4,Nxe4,cxd4,cxd4,Nd5,Bh2,b5,O-O,Bb7,Nd6,Qb6,Nxb7,Qxb7,Rac1,Rac8,Ne5,Bf6,Qe4,Rfe8,Qh7+,Kf8,Nc4,bxc4', 'Bd6+,Re7,Qh8#', 'https://lichess.org/training/us45f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Us59K', 'Blitz', 'Onacsel', 1649, 'CDiasJr', 1677, 'e4,Nc6,d3,Nf6,f3,d5,Be3,e5,Bf2,Bb4+,Nd2,Be6,Ne2,a5,Ng3,g6,Be2,Qd6,O-O,d4,a3,Bc5,Nb3,Ba7,Qd2,b6,Nc1,O-O,Be1,Ne7,f4,Nd7,fxe5,Nxe5,Bf2,c5,Bd1,Rac8,Nce2,f5,Nf4,Rc7,Rc1,Rf7,Nh3,Rc8,Ng5,Rf6,Nxe6,Qxe6,Re1,Rcf8,Nh1,Ng4,exf5,Qxf5,Bg3', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/Us59K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('us5qD', 'Rapid', 'Kokutaku', 2218, 'mangonel', 2300, 'd4,e6,c4,b6,Nc3,Bb7,e4,Bb4,f3,f5,exf5,Nh6,Bxh6,Qh4+,g3,Qxh6,fxe6,O-O,Qd2,Qxe6+,Be2,d5,cxd5,Bxd5,Kf2,Nc6,a3,Bd6,Nxd5,Qxd5,Rd1,Nxd4,Qd3,Bc5,Kg2,Qe5,f4,Qf5,Qc4+,Kh8,Rxd4,Bxd4,Qxd4,Rad8,Qc3,Qd5+,Bf3,Qd2+,Ne2,Qxc3,bxc3,Rd2,Ra1,Re8,Kf2,g6,a4,a5,Ke1,Rd3,Kf2,Kg7,c4,Rd2,c5,Rc2,cxb6,cxb6,Rb1,Re6,Rc1', 'Rexe2+,Bxe2,Rxc1', 'https://lichess.org/training/us5qD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Us6iA', 'Rapid', 'zashem', 1930, 'hollysteric', 1885, 'd4,Nf6,Bf4,g6,e3,Bg7,Be2,O-O,h4,d6,h5,gxh5,Bxh5,Bf5,g4,Nxh5,gxf5,Nxf4,exf4,Qd7,Qh5,h6,c3,e6', 'f6,Qd8,fxg7', 'https://lichess.org/training/Us6iA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('usaA6', 'Rapid', 'Rom-vik8', 1796, 'Rommcha', 1784, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Nge7,Bd3,Bd7,Bc2,Nf5,Bxf5,exf5,O-O,c4,Nbd2,Be7,b3,Na5,bxc4,dxc4,Rb1,Qc7,d5,Bc5,Qe2,O-O,d6,Qc8,Kh1,b5,Bb2,Re8,Rfe1,f6,Qd1,Nc6,exf6,Rxe1+,Qxe1,Bxd6,fxg7,Kxg7,Rd1,Bf4,Nd4,Qe8,N2f3,a6,Qf1,Qf7,Nxc6,Bxc6,Nd4,Be4,f3,Bd3,Qf2,Re8,Qh4,Bh6,Qg3+,Kh8,Nc6,Bg7,Nb4,Re2,Bc1,Bxc3,h4,Bxb4,axb4,Qg7,Bg5,Re8,Qf4,Qe5', 'Qxe5+,Rxe5,Bf6+,Kg8,Bxe5', 'https://lichess.org/training/usaA6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSaDq', 'Rapid', 'akystah', 2266, 'MagzyBogues2007', 1844, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,Nf6,Nc3,d5,e5,Ne4,Nxe4,dxe4,Be3,Bf5,Ne2,e6,Nc3,Bb4,Be2,O-O,O-O,Bg6,Bb5,Rc8,Qa4,Bxc3,bxc3,a6,Be2,b5,Qxa6,b4,Rac1,Nb8,Qa4,bxc3,Rc2,Rc7,Rfc1,Qc8,Qb3,Rd8,Rxc3,Rxc3,Rxc3,Qd7,Bb5,Qb7,Bc4,Qxb3,Bxb3,Nd7,Bg5,Ra8,a4,h6,Be7,Nb6,Bc2,Nxa4,Ra3,Nb6,Rxa8+,Nxa8,Kf1,Nc7,Bd6,Nb5,Bc5,Nc3,Bb4,Nd5,Bd2', 'e3,Bxg6,exd2,Bc2,Nc3', 'https://lichess.org/training/uSaDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Usaqn', 'Rapid', 'Oxiuro57', 1772, 'RedUno', 1801, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,e6,Bb5,Bd7,O-O,Be7,f4,Nf6,Nxc6,bxc6,Bd3,e5,f5,O-O,a3,h5,Be2,d5,Bxh5,d4,Na2,Nxe4,Qg4,Nf6,Qh3,c5,Bg5,c4,Rae1,e4,Bxf6,Bxf6,Rxe4,Qb6,Kh1,Bc6,Rg4,d3,cxd3,cxd3,Rxg7+,Bxg7,Qg3,Qd4', 'f6,Qxf6,Rxf6', 'https://lichess.org/training/Usaqn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('usbgY', 'Rapid', 'Goldentrophy', 2002, 'lourivalsilva', 1982, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,e5,Nf3,Bd6,d4,Bg4,Be2,Bxf3,Bxf3,exd4,e5,Qe7,Qe2,dxc3,exd6,Qxe2+,Kxe2,Nc6,Bxc6+,bxc6,dxc7,Rc8,Be3,Rxc7,Bc5,Kd7,Rad1+,Kc8,Rd3,Re8+,Kd1,Rd7,Rxd7,Kxd7,Re1', 'c2+,Kxc2,Rxe1', 'https://lichess.org/training/usbgY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('USCfY', 'Rapid', 'Wiviloop', 1633, 'Garthant', 1696, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,b3,Ngxe5,Bb2,Bb4+,Nbd2,Qe7,e3,O-O,Nxe5,Nxe5,Be2,d6,O-O,Qh4,Bxe5,dxe5,Nf3,Qf6,a3,Bc3,Rc1,e4,Rxc3,Qxc3,Nd4,c5,Nb5,Qe5,f4,exf3,Bxf3,Qxe3+,Kh1,Bf5,Re1,Qf4,Nd6,Rad8,g3,Qxd6,Bd5,Rfe8', 'Rxe8+,Rxe8,Bxf7+,Kxf7,Qxd6', 'https://lichess.org/training/USCfY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UsdF2', 'Classical', 'edax', 1926, 'Atroks', 1810, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,Ne2,Bg7,d3,O-O,Nbc3,Nd4,Nxd4,exd4,Ne2,Qe7,Nxd4,d5,Bb3,dxe4,dxe4,Bg4,Qe3,c5,Ne2,Rfe8,f3,Nxe4,fxg4,c4,Bxc4', 'Qb4+,c3,Qxc4', 'https://lichess.org/training/UsdF2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('usdgn', 'Rapid', 'lebram', 1697, 'theelephantpainting', 1733, 'e4,c5,Nc3,Nc6,Nf3,d6,Bb5,Bd7,Bxc6,Bxc6,e5,Qc7,exd6,exd6,O-O,Nf6,d4,c4,d5,Bd7,Re1+,Be7,Bg5,Bg4,Bxf6,gxf6,Qe2,Bxf3,gxf3,Qd7,Qxc4,Rg8+,Kh1', 'Qh3,Qg4,Rxg4', 'https://lichess.org/training/usdgn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSDSS', 'Rapid', 'LEONIDA1988', 1833, 'Chesshero2005', 1866, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,e5,d3,Bg4,Be2,Bc5,O-O,O-O,h3,Bf5,Nc3,Qd7,Bg5,Nh5,Nh4,Nf4,Bxf4,exf4,Nxf5,Qxf5,Bg4,Qg6,Ne4,Bd4,Rb1,f5,Bh5,Qe6,Ng5,Qe7,Nf3,g6,Bxg6,hxg6,Re1,Qf6,b4,Rfe8,Rxe8+,Rxe8,b5,Nd8,a4,g5,Nxd4,Qxd4,Qh5,Nf7,Qg6+,Kf8,Qxf5,Re2,Rf1,Rd2,Qc8+,Nd8,Qf5+,Nf7,Qc8+,Nd8,c5,Rxd3,c6,bxc6,bxc6,Rc3', 'c7,Rxc7,Qxc7', 'https://lichess.org/training/uSDSS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSefC', 'Blitz', 'GM Saltaev', 2525, 'pawlo555', 2370, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nh3,e6,c3,Nf6,Nf4,Bd6,h4,Qc7,Qf3,Nd5,Nxd5,exd5,h5,Qe7+,Be3,Be4,Nxe4,Qxe4,Qxe4+,dxe4,f3,exf3,gxf3,Nd7,Bc4,Nb6,Bb3,Nd5,Bd2,O-O-O,Kf2,g6,Rag1,Rde8,Rg5,Be7,Rg4,Bf6,Bxd5,cxd5,Bg5,Re6,Bxf6,Rxf6,hxg6,fxg6,Rg5,Rd6,Rh4,Kd7,Rf4,h6,Re5,Rh7,Rf8,Re7,f4,g5,fxg5,hxg5,Rxg5,Rde6,Rxd5+,Kc6,Re5,Rxe5,dxe5,Rxe5,Rf4,b5,Rf8,a5,Rc8+,Kb6,Rd8,a4,Rd3,Kc5,Re3,Rh5,Rg3,Rh2+,Rg2', 'Rxg2+,Kxg2,Kc4,Kf3,Kd3', 'https://lichess.org/training/uSefC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSg8G', 'Classical', 'REDucko', 1796, 'Danya-09', 1789, 'e4,c6,Qf3,d5,e5,Nd7,d4,e6,Nh3,h6,Bd3,c5,c3,cxd4,cxd4,Bb4+,Bd2,Qb6,Qg4,Bxd2+,Nxd2,Qxb2,Ke2,Kf8,Rhb1,Qc3,Qf4,f6,exf6,Ngxf6,Qd6+,Kf7,f4,Qxd4,Nf3,Qc5,Ne5+,Kg8', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/uSg8G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('USgI7', 'Rapid', 'TomaTal', 1988, 'Sorcel', 2153, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d5,e3,O-O,b3,c5,Bb2,Nc6,a3,Bg4,Be2,Ne4,O-O,dxc4,bxc4,cxd4,exd4,Nxc3,Bxc3,Bxf3,Bxf3,Nxd4,Bxb7,Rb8,Rb1,e5,Bd5', 'Rxb1,Qxb1,Ne2+,Kh1,Nxc3', 'https://lichess.org/training/USgI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSH6Q', 'Rapid', 'Musibala', 1960, 'tehouid', 1932, 'f4,d5,e3,Nc6,Nf3,Nf6,c4,e6,d4,Be7,Nc3,O-O,Be2,Ne4,Nxe4,dxe4,Ne5,Nxe5,fxe5,Bh4+,g3,Bg5,O-O,Bd7,b4,b6,a4,c5,bxc5,bxc5,d5,exd5,cxd5,Re8,Bb2,Bxe3+,Kh1,Rb8,Rb1,Bh3,Bc4,Bxf1,Qxf1,Bd4,Bxd4,Rxb1,Qxb1,cxd4,Qxe4,Qb6,Bb5,Rc8,d6,a6,d7,Rd8,Bc6,d3,e6,d2,exf7+,Kh8', 'Qe8+,Rxe8,dxe8=Q#', 'https://lichess.org/training/uSH6Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('usjuy', 'Rapid', 'Alifong2013', 2100, 'Mufidul1986', 2105, 'f4,d5,Nf3,Nc6,e3,a6,Be2,Nf6,O-O,Bg4,d3,e6,Ne5,Bxe2,Qxe2,Nxe5,fxe5,Nd7,d4,Be7,c4,O-O,c5,c6,a4,f6,Nc3,fxe5,Rxf8+,Qxf8,Bd2,Qf5,a5,Qc2,Bc1,Qxe2,Nxe2,exd4,exd4,e5,Be3,Rf8,b4,Bf6,Rf1,Re8,Bf2,exd4,Nxd4,Ne5,Re1,g6,Ne2,Nd3,Rd1,Nxf2,Kxf2,Re4,Rb1,Rc4,Kf3,Kf7,h3,Ke6,Nf4+,Kf5,g4+,Kg5,h4+,Kxh4', 'Rh1+,Kg5,Ne6#', 'https://lichess.org/training/usjuy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UskCu', 'Rapid', 'aditya_winner', 1745, 'Eduvigio', 1817, 'Nf3,d5,e4,dxe4,Ng5,Nf6,d3,exd3,Bxd3,Bg4,f3,Bh5,O-O,e6,g4,Bg6,Bxg6,Qxd1,Bxf7+,Ke7,Rxd1,h6,Bxe6,hxg5,Re1,Kd6,Bxg5,Nbd7,Nc3,c6,Rad1+,Kc7,Rd3,Bd6,f4,Rae8,f5,Bxh2+,Kg2,Bd6,Red1,Rh2+,Kg1,Reh8,Rxd6,Rh1+,Kf2,R1h2+,Kg3', 'R8h3+,Kf4,Rf2#', 'https://lichess.org/training/UskCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSkD1', 'Rapid', 'MYMChessIan', 2192, 'Zel07', 2152, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,f3,Nf6,Nge2,g6,Ng3,Bg7,Bc4,O-O,Be3,a6,Qd2,b5,Be2,Qa5,O-O,d6,a3,Be6,b4,Qc7,Rac1,Qb7,f4,Rfd8,f5,Bd7,Bh6,Ne5,Bxg7,Kxg7,fxg6,hxg6,Qg5,Bc6,Rxf6,exf6,Nh5+,Kg8,Nxf6+,Kg7,Ncd5,Bxd5,Nxd5,Nd7,h3,f6,Qg3,Ne5', 'Rc7+,Rd7,Rxb7', 'https://lichess.org/training/uSkD1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSkiq', 'Rapid', 'rafpaf', 1706, 'Melitzanakis', 1715, 'd4,d5,c4,Nf6,Nc3,Nc6,Bg5,Bf5,Bxf6,gxf6,e3,e5,dxe5,fxe5,Nxd5,Be6,Nf3,Bxd5,Qxd5,Qxd5,cxd5,Nb4,Rc1,Nxd5,Nxe5,Bd6,f4,f6,Nf3,Nxe3,Kf2,Bxf4,Re1,O-O-O,Rxe3,Bxe3+,Kxe3,Rhe8+,Kf2,Kd7,Bb5+,c6,Rd1+,Kc7,Rxd8,Rxd8,Be2,b5,Ne1,Rd2,Nd3,Kd6,Ke3,Rc2,Bf3,c5,h4,c4,Nb4,Rxb2,a3,Rb3+,Kd2,Rxa3,Kc2,Rb3,Na2,a5,Nc3,b4,Nb5+,Kc5,Nc7,a4,Bd1,a3,Ne6+,Kd5,Nc7+,Kc6,Ne6,a2,Nd4+,Kc5', 'Nxb3+,cxb3+,Kb2', 'https://lichess.org/training/uSkiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('USL30', 'Rapid', 'Matoz', 2142, 'vladimirov_i', 1781, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,Bg7,Bd3,Ne7,Nxe7,Kxe7,c4,b4,Nc2,a5,Ne3,Be6,O-O,Rg8,Kh1,Bh6,Nd5+,Bxd5,cxd5,Rg6,a4,Qg8,g3,Bg5,Bb5,h5,Qxh5,Qg7,Qg4,f5,exf5,Rh6,Rac1,Rah8,f6+,Qxf6,Rc7+,Kf8,h4', 'Rxh4+,gxh4,Rxh4+', 'https://lichess.org/training/USL30');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSLLE', 'Classical', 'guiche', 1769, 'seyedreza20', 1621, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bd6,c4,Nf6,b3,O-O,Ba3,c5,O-O,b5,cxb5,axb5,Bb2,Bb7,Bxe5', 'Bxe5,Nxe5,Qd4,Nd2,Qxe5', 'https://lichess.org/training/uSLLE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UslZq', 'Rapid', 'Allekos', 1874, 'Akshkrit', 1894, 'e4,d5,exd5,Nf6,c4,c6,Nc3,cxd5,cxd5,e6,Qb3,exd5,Bb5+,Nc6,Nf3,a6,Bxc6+,bxc6,O-O,Be6,Re1,Be7,Nd1,O-O,Ne5,Qc7,d4,Bd6,Bf4,Nh5,Bg3,Nxg3,hxg3,c5,Qe3,cxd4,Qxd4,Rae8,Nf3,a5,a3,Ra8,Ne3,Qc6,Rac1,Qb5,Ng5,Rac8,f4,Bc5,Qe5,Qb6,Rxc5,Rxc5,b4,axb4,axb4,Qxb4,Ra1,Qb6,Nxe6,fxe6,Kf2,Rf5,Nxf5,exf5', 'Qe8#', 'https://lichess.org/training/UslZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSMRc', 'Bullet', 'ka50', 1570, 'bantuver', 1550, 'e4,b6,Nf3,Bb7,Nc3,g6,d4,e6,Bd3,h5,Be3,h4,Qd2,h3,gxh3,Rxh3,O-O-O,Rxf3,Be2,Rh3,Bg4,Rh8,Bg5,Be7,Bxe7,Qxe7,h4,Rxh4,Rxh4,Qxh4,f3,Nc6,d5,Ne5,dxe6,Nxg4', 'Qxd7+,Kf8,Qxf7#', 'https://lichess.org/training/uSMRc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('USN0V', 'Bullet', 'mikhailbalakirev', 1587, 'Warymaniac0801', 1587, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,Nf6,Bb5+,Nc6,Bg5,Be6,Bxf6,Qxf6,Nxd5,Bxd5,Qxd5,Be7,Bxc6+,bxc6,Qc4,O-O,O-O-O,Qg5+,Kb1,Bf6,Ne2,Rab8,c3,a5,h4,Qe5,Nd4,Qc7,Qe2,Qb7,Ka1,a4,a3,Rfe8,Qc2,Qc7,Rb1,Qa5,Nxc6,Qxc5,Nxb8,Rxb8,Ka2,Qc4+,Ka1,h6,Rhe1,Qxh4,Re4,Qg5,f3,Qc5,Rxa4,g5,Re4,Kg7,Ree1,Ra8,g4,Qa7,Qb3,Be7,Qd5,Bf6,Qf5,Qf2,Rf1', 'Rxa3+,bxa3,Bxc3+,Rb2,Qxb2#', 'https://lichess.org/training/USN0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('usnzR', 'Blitz', 'emmanuelramirez2020', 1582, 'DrNinjaBot', 1559, 'c3,d5,d4,e5,dxe5,Nc6,Nf3,Bf5,Bf4,h6,Nbd2,g5,Bg3,Nge7,h4,g4,Nd4,Bh7,Nxc6,Nxc6,Nb3,Bg7,f4,gxf3,exf3,Nxe5,Qe2,Qe7,O-O-O,O-O-O,Qe3,Rhe8,Qxa7,Nc4,Nc5', 'Qe3+,Rd2,Qxd2#', 'https://lichess.org/training/usnzR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UsPF4', 'Classical', 'kevin-zhexia', 1828, 'Guileve', 1823, 'd4,d5,Bf4,e6,Nf3,Bd6,Bg3,Bxg3,hxg3,Nf6,e3,Ne4,c4,c6,Nc3,Nxc3,bxc3,Nd7,cxd5,cxd5,Bd3,Qa5,Qb3,h6,Nh4,a6,O-O,b5,a4,b4,Qxb4,Qxb4,cxb4,g5,Nf3,f5,b5,axb5,Bxb5,O-O,Bxd7,Bxd7,a5,Rfb8,Rfc1,Rb7,Ne5,Be8,Nc6,Kf7,Ne5+,Ke7,Rc5,h5,Nc6+,Bxc6,Rxc6,Kd7,Rc5,Kd6,a6,Rba7,Rca5,Kc6,Rc5+,Kd7,Rca5,Kc6,Rc1+,Kb6,Rcc5,Rxa6', 'Rab5+,Ka7,Rc7#', 'https://lichess.org/training/UsPF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSPJJ', 'Classical', 'chess1719', 1674, 'escualo', 1666, 'e4,e5,Nf3,d6,Bc4,Bg4,c3,h6,Be2,Be7,d4,exd4,Qxd4,Nf6,Nbd2,O-O,b4,Nc6,Qc4,Ne5,Nxe5,Bxe2,Qxe2,dxe5,O-O,Nh7,Nf3,Ng5,Nxe5,Bd6,Rd1,Qe8,Bxg5,Bxe5,Bd2,f5,Qc4+,Kh8,exf5,Qh5,f4,Bd6,Qd3,Rad8,Qf1,Qxf5,Qc4,Qg4,Rf1,b6,a4,a5,h3,Qh4,bxa5', 'Bc5+,Kh1,Rxd2', 'https://lichess.org/training/uSPJJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('usQhh', 'Blitz', 'Svensl', 1598, 'uxjh54', 1594, 'd4,d5,c4,dxc4,e3,e5,Nf3,exd4,Qxd4,Bd7,Bxc4,Nc6,Qe4+,Nge7,Ng5,Be6,Bxe6,fxe6,Qxe6,Qd6,O-O,Nd8,Qxd6,cxd6,Rd1,Nf5,Nc3,Be7,Nge4,O-O,Nb5,Rf6,b3,a6,Nc7,Rc8,Nd5,Rg6,Ba3,Nh4,Nf4,Rg4,Nxd6,Bxd6,Rxd6,Nf7,Rd7,Ng5,Kh1,Ngf3,gxf3,Nxf3,Rad1,Rc2,Rd8+,Kf7,R1d7+,Kf6,Be7+,Kf5,Rd5+,Ke4,h3,Rc1+,Rd1', 'Rg1+,Rxg1,Rxg1#', 'https://lichess.org/training/usQhh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('USrC5', 'Blitz', 'sunnsetsramurai', 1734, 'geotracman', 1742, 'e4,e5,f4,Nc6,Nf3,d6,f5,Bd7,Nc3,Nf6,Bc4,Nd4,Ng5,d5,Nxd5,h6,Nxf7,Kxf7,Nxc7+,Ke7,Nd5+,Nxd5,Bxd5,Bc6,c4,Bxd5,cxd5,Rc8,O-O,Qb6,Kh1,Kf7,Qh5+,Kg8,d3,Be7,b3,Kh7,Be3,Rc3,Rfd1,Rhc8,h3,Rc2,f6,Qxf6,Bxd4,exd4,e5,Qg6,Qf3,Rb2,d6,Bd8,Qd5,Rcc2,Rg1,Rd2,e6,Rxd3,e7,Bxe7,dxe7,Re3,Rae1,Rbe2,Rxe2,Rxe2,Qxd4,Rxe7,Qxa7,Qf6,a4,Qc3,Qb6,Re3,a5', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/USrC5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('USSMx', 'Rapid', 'Josef1', 1803, 'bobbyanand', 1994, 'e4,c5,Bc4,e6,d3,d5,exd5,exd5,Bb5+,Nc6,Nf3,Nf6,Ne5,Bd7,Qe2,Be7,Nxc6,bxc6,Ba4,Qa5+,Nc3,d4,b4,Qxb4,Rb1,Qxc3+,Bd2,Qa3,Bb3,Qa6,O-O,Bg4,Qe5,Qc8,Rfe1,Be6,Bxe6,Qxe6', 'Rb8+,Rxb8,Qxb8+', 'https://lichess.org/training/USSMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSt0k', 'Rapid', 'anpiven58', 1898, 'Bob1949', 1911, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,c4,e5,Nf3,Nc6,Be3,Ng4,Bd2,Be7,h3,Nf6,Nc3,O-O,Nd5,Nxd5,cxd5,Nb8,Rc1,b5,a4,bxa4,Qxa4,Bd7,Qc2,Bb5,O-O,Nd7,Bxb5,axb5,Qc7,Nc5,Qxd8,Rfxd8,Ra1,Rxa1,Rxa1,Nb3,Rd1,Nxd2,Rxd2,Rc8,Kh2,Rc4,Re2,Rb4,Kg3,g6,Kh2,f5,exf5,gxf5,Rc2,e4,Nd2,Bf6,b3,Bg5,Rc8+,Kf7,Rc7+,Kg6,Nf1,Rxb3,Ng3,Bf4,h4,h6,h5+,Kf6,Rc8,Ke5,Rf8,Rb2', 'Rxf5+,Kd4,Rxf4', 'https://lichess.org/training/uSt0k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ustoV', 'Blitz', 'Oswaldoreina', 2043, 'NM Alexandrajinx', 2180, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,O-O,Nge2,e5,d5,c6,O-O,cxd5,cxd5,Nbd7,b4,a6,f3,Nh5,Kh1,f5,exf5,gxf5,Rb1,Qh4,Be3,Nf4,Nxf4,exf4,Bf2,Qh6,Ne2,Ne5,b5,axb5,Bxb5,Rxa2,Nd4,Rf6,Ne6,Rxf2,Rxf2,Qh4,Rc2,Bxe6,dxe6,Rh6,h3,Qg3,Bf1,Nc6,Rxb7,Bd4,Rxc6', 'Rxh3+,gxh3,Qg1#', 'https://lichess.org/training/ustoV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Usueo', 'Rapid', 'AKUBA_AI', 2097, 'Lucignolo55', 2028, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Nc3,Ngxe5,Nxe5,Nxe5,e3,Bb4,Qc2,d6,Be2,O-O,O-O,Be6,a3,Ba5,b4,Bb6,Nd5,Bd7,Bb2,Qg5,Nxb6,axb6,f4,Bf5,e4,Qe7,exf5,Nd7,Rae1,Qd8,g4,Re8,g5,Nf8,Bh5,Qd7,Bxg7,Kxg7,Qc3+,Kg8,Qh3,d5,Bg4,dxc4,f6,Qd4+,Kh1,Qd5+', 'Bf3,Rxe1,Bxd5', 'https://lichess.org/training/Usueo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSVlj', 'Rapid', 'Fredjepro', 2088, 'arcangell', 2045, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bg5,Be6,Bd3,Bd6,Nbd2,O-O,O-O,c6,Ne5,h6,Bh4,c5,c3,Nc6,f4,cxd4,Ndf3,dxc3,bxc3,Be7,Bc2,Ne4,Bxe7,Qxe7,Nxc6,bxc6,Bxe4,dxe4,Ne5,Rac8,Qd4,Bf5,Rad1,Rfd8', 'Nxc6,Rxc6,Qxd8+', 'https://lichess.org/training/uSVlj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('USVN0', 'Rapid', 'massimoprisco', 1880, 'ferrucciolari', 1776, 'c4,f5,Nc3,Nf6,d4,e6,e3,Bb4,a3,Bxc3+,bxc3,O-O,Nf3,b6,Be2,Bb7,O-O,d6,Nd2,Nbd7,Bd3,c5,Qc2,Ng4,h3,Ngf6,e4,fxe4,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Qf6,Qc6,Qe7,Be3,Rfc8,Qe4,Nf6,Qh4,Rf8,Rae1,Rae8,Bg5,Qf7,Bxf6,Qxf6,Qg3,cxd4,Qxd6,dxc3,Re3,Rd8,Qxe6+,Qxe6,Rxe6,c2,Ree1,Rc8,f3,Rxc4,Rc1,Rc3,Rf2,Rxa3,Rfxc2,b5,Rc7,b4,Rb7,a5,Rcc7,Rd8,Rxg7+,Kf8,Rbf7+,Ke8,Re7+,Kf8,Rb7,Rad3,Rxh7,Kg8,Rhg7+,Kf8,Rgf7+,Ke8,Rh7,R3d7,Rh8+,Ke7,Rh7+,Ke6,Rh6+,Kd5,Rh5+,Kc4,Rxd7,Rxd7,Rxa5,Rb7,Ra1,Kc3,Kf2,b3,f4,Kc2,g4,b2,Re1,b1=Q,Rxb1,Rxb1,Kg3,Kd3,f5,Ke4,Kh4,Ke5,Kg5,Rb8,Kh4,Rh8+,Kg3,Kf6,h4,Rc8,Kf4,Rc4+,Kf3,Rc3+,Kf4,Rc1,g5+,Kf7,Kg4,Kg7,Kh5,Rc5,Kg4,Rc1,Kh5,Rg1,f6+,Kf7,Kh6,Rg2,Kh5,Rh2,Kg4,Kg6,Kg3,Rh1,Kg4,Rg1+,Kh3,Kh5,Kh2,Rf1,Kg3,Rg1+,Kf4,Rf1+,Ke5,Kxh4', 'g6,Kg5,g7', 'https://lichess.org/training/USVN0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UsWcr', 'Blitz', 'arqelias', 1557, 'WhiteMonsterPL', 1675, 'd4,d5,c4,e6,cxd5,exd5,Nf3,Nc6,g3,Bg4,Bg2,Nf6,O-O,Bd6,Re1,O-O,Nc3,Re8,Bg5,Bb4,a3,Bxc3,bxc3,Re6,Bc1,Ne4,Ng5,Nxg5,Bxg5,Qxg5,Bxd5,Rd6,c4,Re8,Qc2,Nxd4,Qb2,Rxe2,Qxb7,Rxe1+,Rxe1,h6,Qxc7,Ra6,Qxf7+,Kh7,Be4+,Bf5,Bxf5+,Qxf5,Qb7,Rxa3,Re7,Qf6,Qe4+,Nf5,g4,Ra1+,Kg2,Kg6,Qxf5+,Qxf5,gxf5+,Kxf5,Rxg7,Rc1,Rxa7,Rxc4,Ra5+,Kg6,Ra6+,Kg5,Kg3,h5,Ra5+,Kh6,h4,Rc3+,f3,Rc4,Ra6+,Kh7,Rf6,Rc1,Rf5,Kg6,Kf4', 'Rc4+,Ke5,Rc5+,Ke4,Rxf5', 'https://lichess.org/training/UsWcr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSwnz', 'Rapid', 'wallaceturner', 1607, 'bronx33', 1864, 'e4,e5,f4,d6,Nf3,Bg4,h3,Bh5,g4,Bg6,f5,Qf6,fxg6,hxg6,d3,Nc6,Bg5,Qe6,Nc3,f6,Nd5,O-O-O,Be3,Nge7,Nxe7+,Bxe7,Qe2,g5,b3,d5,O-O-O,d4,Bf2,Ba3+,Kb1,Bb4,Be1,Bc3,Bxc3,dxc3,Qe1,Nd4,Bg2,Qc6,Qf2,a5,Nxd4,exd4,Qf5+,Kb8,Qxa5,Rhe8,Rhg1,Re5,Qa4,Qb6,Rdf1,Ra5,Qc4,Rd7,Rf5,Rxf5,exf5,Qd6,Re1,Qh2,Be4,Qd2,Rc1,c6,Qe6,Rc7,Qe8+,Ka7,Qe6,Qf4,Qe8,Qd6,Qe6', 'Qa3,b4,Qb2#', 'https://lichess.org/training/uSwnz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSYKf', 'Rapid', 'halmahera', 1764, 'nikishar', 1735, 'f4,d5,d4,Nc6,e3,e6,Nf3,Nf6,a3,Be7,Bd3,Ne4,O-O,O-O,c4,Bf6,c5,b6,b4,Bb7,Bb2,bxc5,b5,Na5,Nc3,c4,Bxe4,dxe4,Nd2,Nb3,Nxb3,cxb3,Qxb3,Bd5,Nxd5,exd5,Rfc1,a5,Rc6,Be7,Rac1,a4,Qc3,Bd6,Qd2,f5,g3,Qd7,Qe2,Rfb8,h3,Ra5,Bc3,Raxb5,Bb4,Rxb4,axb4,Rxb4,Qa6,h6,Qa5,Rc4,Qa8+,Kh7,R6xc4,dxc4,Rxc4,a3,h4,Qb5,Qa4', 'Qb1+,Kh2,a2', 'https://lichess.org/training/uSYKf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uSZ4Q', 'Blitz', 'Duffer4191', 1737, 'anioth', 1758, 'e4,c5,Nf3,d6,b3,g6,Bb2,Nf6,d3,Bg7,Nbd2,O-O,Be2,Nc6,Nf1,Bd7,Ng3,a6,O-O,b5,c4,b4,d4,Bg4,dxc5,dxc5,Qc2,e6,Rad1,Qc7,h3,Bxf3,Bxf3,Rfd8,Rxd8+,Rxd8,Rd1,Rxd1+,Qxd1,Qd8,Qxd8+,Nxd8,e5,Nd7,Be4,Nxe5,f4,Nd7,Bxg7,Kxg7,Kf2,Kf6,Ke3,e5,Ne2,exf4+,Nxf4,Ke5,Nd3+,Kf6,g4,Kg5,Nf4,Kh4,Bd5,Nf6,Kf3,g5,Ng2+,Kxh3,Ne3,h5,gxh5,Nxh5,Kf2,Nf4,Bf3,Nd3+,Ke2,Nc1+,Kf2,Nxa2', 'Bg4+,Kh4,Kf3,a5,Nf5#', 'https://lichess.org/training/uSZ4Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uszj7', 'Rapid', 'IoanaJulien', 1763, 'pouriaaaaa', 1631, 'e4,e5,g3,d6,Ne2,Be7,Bg2,f5,exf5,Bxf5,O-O,Nc6,c3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qf4,Bc8,Re1,O-O,Qc4+,d5,Qd3,c4,Qd4,b6,Be3,Bc5,Qd2,Re8,Bxc5,Rxe1+,Qxe1,bxc5,Na3,Bf5,Rd1,a6,Qe3,Qe8,Qxc5,Rd8,Bxd5+,Nxd5,Rxd5,Qe1+,Kg2,Be4+,Kh3,Bxd5,Nc2,Qe6+,g4,Rf8,Nd4,Qh6+,Kg3,Bf7,Nf5,Qf6,h3,Rd8,Ne7+,Kh8,Nf5,Rd3+,Kg2,g6', 'Qf8+,Bg8,Qxf6#', 'https://lichess.org/training/Uszj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('usztz', 'Rapid', 'Vytautas1983', 1738, 'Letmepass', 1739, 'e4,d5,exd5,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3,bxc3,O-O,Nf3,exd5,d4,Re8+,Be2,Bg4,O-O,Ne4,h3', 'Nxc3,Qb3,Nxe2+', 'https://lichess.org/training/usztz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ut0Ad', 'Rapid', 'mWiraszka', 1994, 'sabirnovruzov2', 2044, 'd4,d5,Bf4,Bf5,e3,e6,Nd2,Nf6,Ngf3,c5,c3,cxd4,exd4,Bd6,Bxd6,Qxd6,Ne5,O-O,Ndf3,Nc6,Bd3,Bxd3,Qxd3,Ne4,O-O,f6,Nxc6,bxc6,Rae1,Rfe8,Nd2,f5,f3,Nxd2,Qxd2,e5,dxe5,Rxe5,Rxe5,Qxe5,Re1,Qf6,Qf4,g6,Qc7,d4,cxd4,Qxd4+,Kh1,Qf2,Qe7,Rf8,h3,Rf7,Qb4,Rd7', 'Re8+,Kf7,Qf8#', 'https://lichess.org/training/Ut0Ad');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ut1j8', 'Bullet', 'abanoubashraf99', 1773, 'Ramyyyyy', 1794, 'e4,e6,d4,d5,exd5,exd5,Nc3,Be6,Nf3,c6,Bd3,Be7,Be3,Nd7,O-O,h5,h3,g5,Nh2,g4,g3,gxh3,f4,Nb6,f5,Bd7,Qf3,Qc7,Rae1,O-O-O,f6,Nxf6,Bg5,Bg4,Nxg4,hxg4,Qf5+,Kb8,Kh2,Ne4,Bxe7', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/Ut1j8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uT1pj', 'Blitz', 'shreyashshiva', 1545, 'charly02', 1548, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,a6,Bc4,Nf6,Bg5,Be7,O-O-O,O-O,e5,Ng4,Bxe7,Qxe7,exd6,cxd6,Rhe1,Qg5+,Kb1,Ne5,h4,Qg4,Qxd6,Nxc4', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/uT1pj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ut6aA', 'Classical', 'Klosfer4tu', 2244, 'zrtw', 2209, 'e4,e6,Qe2,c5,Nf3,Nc6,g3,g6,Bg2,Bg7,O-O,Nge7,c3,O-O,d3,d6,Bg5,e5,Nbd2,Be6,Nc4,b5,Na3,a6,Nc2,Qa5,b4,cxb4,cxb4,Qa4,a3,Rfc8,Qd2,f6,Be3,Nb8,Rfc1,Qb3,d4,Nd7,d5,Bg4,Nfe1,f5,f3,Bh5,h3,f4,Bf2,fxg3,Bxg3,Nf6,Bh4,Qc3,Qf2,Rc7,Bg5,Rac8,Bd2,Qb3,Ne3,Rxc1,Rxc1,Rxc1,Bxc1,Bh6,Qc2', 'Bxe3+,Bxe3,Qxe3+', 'https://lichess.org/training/ut6aA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ut7NP', 'Blitz', 'MrKooshaJ', 2398, 'WIM strawberry11', 2372, 'Nf3,d5,b3,c6,Bb2,Nf6,g3,Bf5,Bg2,e6,O-O,Be7,d3,O-O,Nbd2,h6,e3,Nbd7,Qe2,a5,a4,Bb4,Ne5,Nxe5,Bxe5,Nd7,Bb2,Be7,f4,Bf6,Bxf6,Nxf6,h3,Bh7,Kh2,Re8,e4,e5,f5,Qb6,Rae1,Rad8,g4,Qb4,h4,dxe4,Nxe4,Nd5,g5,hxg5,hxg5,Nf4,Qg4,Kf8,g6,Bg8,f6,fxg6,Rxf4,exf4,Qxg6,Rd7,Rf1,Rxe4,Bxe4,Qd2+,Qg2,Qxg2+,Kxg2,gxf6,Rxf4,Rg7+,Kf2,Ke7,Rf5,Rg5,Rf3,Be6,Re3,Kd6,c3,f5,Bf3,f4,Re4,Bxb3,Rxf4,Re5,Rd4+,Kc7,Bg4,Rc5,c4,Bxa4,Ke3,Bb3,Kd2,a4,Kc3,Re5,Rd7+,Kb6,Rg7,Re1,Bc8,Rc1+,Kd4,c5+,Kd5,Ka5', 'Rxb7,Bxc4+,dxc4', 'https://lichess.org/training/ut7NP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UT7Wi', 'Rapid', 'andrzej68', 1756, 'marwaha', 1821, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,Bxf2+,Kxf2,d5,exd5,c6,dxc6,Nxc6,Re1,Qb6+,Be3', 'Ng4+,Kf1,Nxe3+,Rxe3,Qxe3', 'https://lichess.org/training/UT7Wi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UT8Hr', 'Rapid', 'bia2sasan', 1866, 'SoBadSoSad', 1861, 'e4,c5,Bc4,e6,Nc3,Nc6,a3,Nf6,d3,a6,Nf3,Be7,Bd2,O-O,O-O,d5,exd5,exd5,Ba2,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,b5,Bg5,Qd6,Bxf6,Bxf6,Nxd5,Rae8,Nxf6+,Qxf6,c3,Ne2+,Kh1,Qg6,Re1,Nf4,Qf3,Rxe1+,Rxe1,Nxd3,Bb1', 'Nxe1,Bxg6,Nxf3', 'https://lichess.org/training/UT8Hr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ut8Kr', 'Blitz', 'IM kalantaryan', 2587, 'Dokmatov_101', 2225, 'd4,c5,c4,cxd4,Qxd4,Nc6,Qd2,Nf6,Nc3,d6,Nf3,g6,e3,Bg7,Be2,O-O,O-O,h6,Nd4,e5,Ndb5,Ne8,Rd1,Be6,Nxd6,Nxd6,Qxd6,Qb6,Nd5,Bxd5,cxd5,Rad8,Qa3,Nb4,Qb3,Nxd5,Rxd5', 'Qxb3,axb3,Rxd5', 'https://lichess.org/training/ut8Kr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utA8Z', 'Rapid', 'korak', 1810, 'josicgoran', 1793, 'e4,c5,Nf3,e5,Nxe5,d6,Bb5+,Bd7,Nxd7,Nxd7,O-O,a6,Ba4,b5,Bb3,c4,Bxc4,bxc4,Qe2,Nb6,a3,Nf6,Nc3,Be7,d4,cxd3,cxd3,O-O,Be3,Re8,Rfc1,d5,e5,Nfd7,d4,Bg5,Rf1,Bxe3,fxe3,Qg5,Qf3,Rf8,Nxd5,Nxd5,Qxd5,Qxe3+,Kh1,Nb6,Qc5,Nd7,Qd5,Rad8,Rae1,Qd2,e6,Nf6', 'exf7+,Rxf7,Qxd8+', 'https://lichess.org/training/utA8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uta9F', 'Blitz', 'HANIG2016', 1518, 'Black_Goat', 1696, 'Nf3,Nf6,Nc3,g6,e4,Bg7,d4,d6,e5,dxe5,dxe5,Qxd1+,Nxd1,Nd5,Bd2,O-O,Bc4,Nb6,Bb3,Bg4,Bc3,Bxf3,gxf3,e6,f4,Rd8,Ne3,c5,Rd1,Rxd1+,Kxd1,Nc6,Ke2,Nd4+,Bxd4,cxd4,Nc4,Nxc4,Bxc4,a6,b3,b5,Bd3,Rc8,a4,bxa4,bxa4,a5,Rb1,Bf8,h4,Bb4,Kf3,h5,Ke4,Kg7,Kf3,Rc3,Rb3,Rc5,Ke2,f6,exf6+,Kxf6,Kf3,e5,fxe5+,Rxe5,Rb1,Rc5,Rg1,Kf7,Rxg6,Rc3,Rh6,Ra3,Rxh5,Rxa4,Rd5,Bc3,Ke4,Rb4,Rf5+,Kg6,Rg5+,Kh6,f4,a4,f5,a3,f6,a2,f7,a1=Q', 'f8=Q+,Kh7,Kf3#', 'https://lichess.org/training/uta9F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UtAnS', 'Rapid', 'Viktor12345', 2186, 'picachus', 2208, 'd4,e6,e3,Nf6,c3,c5,Bd3,b6,f4,Bb7,Nf3,Be7,Nbd2,d5,O-O,O-O,Ne5,Ne4,Qf3,f6,Ng4,f5,Ne5,Nd7,Nxd7,Qxd7,g4,e5,dxe5,fxg4,Qg2,Nxd2,Bxd2,d4,Be4,Bxe4,Qxe4,dxe3,Bxe3,Qf5,Qxf5,Rxf5,Rfd1,g5,Rd7,Kf7,fxg5,Rd8,Rad1,Rxd7,Rxd7,Rxe5,Bd2,Re2,b4,Ke6,Rd3,cxb4,cxb4,a5,bxa5,Bc5+,Kh1,Rf2,axb6', 'Rf1+,Kg2,Rg1#', 'https://lichess.org/training/UtAnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utBJh', 'Rapid', 'Ivan_iz_Kurulki', 1625, 'Asigno', 1603, 'b4,e5,a3,Nf6,Bb2,Bd6,h3,O-O,e3,c5,b5,a6,bxa6,Rxa6,Bxa6,Nxa6,Nf3,b5,Nxe5,Re8,Ng4,Nxg4,Qxg4,Be5,d4,cxd4,exd4,Bxd4+,Kf1,Bxb2,Ra2,Bf6,Nd2,d5,Qf3,Bb7,Qb3,Qa5,Nf3,d4,Qb1,Nc5,Qd1,Qc3,Ra1,Be4,Rc1,Qxa3,Ra1,Qb4,Rb1,Qc4+,Kg1,Bxc2,Qc1,Re2,Ra1,h6,Ra8+,Kh7,Qf4,Be4,Kh2,Bxf3,Qxf3,Be5+,g3,Ne4,Rf1,Qc2', 'Qf5+,g6,Qxf7+,Bg7,Qg8#', 'https://lichess.org/training/utBJh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utBMl', 'Classical', 'mnamahmad', 1831, 'Facuken_sol', 2050, 'b3,Nf6,Bb2,d5,e3,Nbd7,Ne2,e5,g3,Bd6,Bg2,O-O,d3,Re8,Nd2,e4,dxe4,Nxe4,Nxe4,dxe4,O-O,Qe7,Nc3,f5,Nd5,Qf7,c4,Ne5,Bxe5,Bxe5,Rb1,Be6,Nf4,Rad8,Qc2,Bd7,Rfd1,g5,Nd5,c6,Nc3,Qg7,Ne2,c5,Rd2,Bc6,Rbd1,Rxd2,Rxd2,h5,Qd1,Bc7,a4,h4,h3,f4,exf4,gxf4,Nxf4,hxg3,Nh5,gxf2+', 'Rxf2,Qg5,Nf6+', 'https://lichess.org/training/utBMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utBZc', 'Classical', 'Michas007', 1905, 'keri01', 1777, 'c4,c5,Nc3,e6,e3,b6,Nf3,a6,Be2,Bb7,O-O,Qc7,b3,Nf6,Bb2,h5,d4,Ng4,d5,Bd6,h3,Be5,Rb1,f6,Qd3,Rh6,Nxe5,Nxe5,Qe4,d6,f4,f5,Qc2,Nf7,dxe6,Nd8,Qxf5,Nxe6,Bxh5+,Kd8,Nd5,Bxd5,cxd5,Qe7,dxe6,Kc7,Bg4,Nc6,Qf7,Re8,Qxe7+,Rxe7,f5,b5,Bxg7,Rxg7,f6,Rg8,f7,Rf8,Rf5,Rxe6,Rxc5,Rxe3,Rxc6+,Kxc6,Rc1+,Kb6,Rc8,Rxf7,Rb8+,Kc5,Rc8+,Kb4,Rc6,Re1+,Kh2,a5,Rxd6,Rf2,Kg3,Rxa2,h4,Re3+,Kf4,Rxb3,g3,Rg2,Bf3,a4,Bxg2,a3,h5', 'a2,Rd1,Rb1,Bd5,a1=Q,Rxb1+,Qxb1', 'https://lichess.org/training/utBZc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UtC0C', 'Blitz', 'roim11', 1701, 'samburville', 1689, 'd4,d5,c4,e6,a3,Nf6,Nc3,Nbd7,e3,c6,Nf3,Qa5,Be2,Ne4,Qc2,Ndf6,b4,Qc7,Nxe4,Nxe4,Nd2,Nf6,O-O,a5,Bb2,axb4,axb4,Rxa1,Rxa1,Bxb4,cxd5,exd5,Nb3,O-O,Nc5,Bxc5,Qxc5,Ne4,Qc2,Qd6,f3,Nf6,Ba3,Qe6,Bxf8,Qxe3+,Kh1,Kxf8,Qd3,Qe6,Ra8,Ke7,Kg1,Kd8,Bf1,Nh5,Qxh7,Nf4,Qg8+,Kc7,Qxg7,Qe3+,Kh1,Qf2,Qxf7+,Kb6,h4', 'Qxf1+,Kh2,Qxg2#', 'https://lichess.org/training/UtC0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UTca5', 'Rapid', 'dantee91', 1767, 'MarconiSantos', 1743, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bg5,Be7,f4,b5,Bd3,Nbd7,Qe2,Qb6,Qe3,e5,Nf5,Qxe3+,Nxe3,exf4,Bxf4,Nc5,Ned5,Bb7,Nc7+,Kd7,Nxa8,Rxa8,e5,dxe5,Bxe5,Re8,O-O-O,Kc8,Bf5+,Ne6,Rhe1,Bxg2,Bg3,Bb4,Re3,g6,Bxe6+,fxe6,a3,Bc5,Red3,Be7,Bh4,Ne4,Bxe7,Rxe7,Nxe4,Bxe4,Rd8+,Kc7,R8d6,Bb7,R1d4,e5,Rd2,e4,R6d4,e3,Re2,Bf3,Re1,e2,Rf4,Bh5,Rf6', 'Rd7,Rxe2,Bxe2', 'https://lichess.org/training/UTca5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UTe8X', 'Rapid', 'xydinesh', 1991, 'juan120600', 1962, 'd4,b6,c4,Bb7,Nc3,e6,Nf3,Bb4,Bf4,Bxf3,exf3,Bxc3+,bxc3,Nf6,Bd3,Nc6,O-O,O-O,c5,Nd5,Qd2,bxc5,dxc5,Nxf4,Qxf4,Rb8,Qe4,g6,Rab1,Rc8,Bb5,Ne7,Rfd1,Nd5,Qd4,c6,c4,cxb5,cxd5,a6,d6,Qg5,Rdc1,Rc6,Rc2,Rfc8,Rbc1,Rxc5,Rxc5', 'Qxc1+,Rxc1,Rxc1+,Qd1,Rxd1#', 'https://lichess.org/training/UTe8X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uteik', 'Blitz', 'Coliv', 2230, 'NM FalzeHope', 2318, 'd4,e6,Bf4,d5,e3,Bd6,Bd3,Ne7,Nd2,f5,Ngf3,Ng6,Bg5,Be7,Bxe7,Qxe7,c4,O-O,cxd5,exd5,O-O,Nd7,g3,Nf6,Qb3,c6,Rac1,Ne4,Qc2,h5,a4,h4,Nb3,Be6,Nc5,Rae8,Nxe6,Qxe6,b4,Rc8,Nd2,Qf6,Nb3,Qg5,Bxe4,fxe4,Nc5,Qe7,Qe2,Rf6,b5,Rcf8,bxc6,bxc6,Rb1,Rf3,Rb7,Qe8,Nd7,Qc8,Nxf8,Nxf8,Rfb1,hxg3,hxg3,Qg4,R7b2,Ng6,Rb8+,Kh7,Qa6,Rxg3+,fxg3,Qxg3+,Kf1,Nh4,Qc8', 'Qg2+,Ke1,Nf3+,Kd1,Qd2#', 'https://lichess.org/training/uteik');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UTFJV', 'Blitz', 'KOBIQ', 1533, 'arajkhowa86', 1564, 'e4,e5,f4,f6,Nf3,Nc6,Bc4,d6,O-O,Nge7,f5,g6,Nh4,gxf5,exf5,Bxf5,Nxf5,Nxf5,Rxf5,Qe7,Qh5+,Kd7,Nc3,Nd4,Rf1,Bg7,Nd5,Qf8,c3,Ne6,d4,c6,Nb4,d5,Bb3,e4,c4,Re8,cxd5,Nxd4,dxc6+,bxc6,Qg4+,f5,Qh5,Qxb4,Be3,Nxb3,Qxf5+,Kc7,axb3,Bd4,Bxd4,Qxd4+,Kh1,Rhf8,Qxh7+,Kc8,Rxf8,Rxf8,h3,Qxb2,Rxa7', 'Rf1+,Kh2,Qe5+,g3,Qb2#', 'https://lichess.org/training/UTFJV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UtFTV', 'Rapid', 'stephen30curry28', 1623, 'genesis2k', 1893, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,Bg4,Be2,c6,h3,Bh5,Ne5,Bxe2,Qxe2,Qxd4,O-O,e6,Rd1,Qb6,Rb1,Bc5,Bg5,Nd5,Nxd5,cxd5,Qf3,f6,Bxf6,gxf6', 'Qh5+,Kd8,Nf7+,Kc7,Nxh8', 'https://lichess.org/training/UtFTV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UTFZX', 'Blitz', 'DonCroccante', 2398, 'CM Davigator', 2371, 'd4,Nf6,Nc3,d5,e4,Nxe4,Nxe4,dxe4,f3,c5,d5,e6,Bb5+,Bd7,dxe6,Bxb5', 'exf7+,Ke7,Bg5+', 'https://lichess.org/training/UTFZX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uTg4M', 'Rapid', 'Selosatar', 1853, 'abeautifulgame', 1910, 'd4,Nf6,b3,e6,Nf3,b6,Bg5,Bb7,Qd3,h6,Bh4,c5,e4,Be7,Bxf6,Bxf6,e5,Be7,dxc5,Bxc5,Be2,O-O,O-O,d6,exd6,Bxd6,c4,Qc7,g3,Nd7,Rd1,Bxf3,Bxf3,Ne5,Qxd6,Qxd6,Rxd6,Nxf3+,Kg2', 'Ne1+,Kf1,Nc2', 'https://lichess.org/training/uTg4M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Utgfb', 'Bullet', 'aleks12101986', 1931, 'zarsale', 1908, 'e4,c5,Nf3,e6,Nc3,Nc6,d3,Nd4,g3,Ne7,Bg2,Nec6,O-O,Be7,Ne2,h5,c3,Nxf3+,Bxf3,h4,d4,hxg3,fxg3,b6,d5,Ne5,Bg2,Ng4,d6,Bf6,h3,Ne5,Bf4,Ba6,Rf2,Nd3,Rf3,Nxf4,gxf4,Bb7,Rg3,g5,e5,gxf4,Nxf4,Bxe5,Qg4,Bxg2', 'Qg8+,Rxg8,Rxg8#', 'https://lichess.org/training/Utgfb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UthOb', 'Rapid', 'Anton2406', 1817, 'Antoine97', 1902, 'e4,e5,Nf3,Nc6,c3,d6,d4,exd4,cxd4,Nf6,d5,Ne5,Nxe5,dxe5,Nc3,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/UthOb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uTjcE', 'Blitz', 'Benny--Boner_69', 2176, 'IM Alexr58', 2319, 'e4,d5,exd5,Qxd5,Qf3,Nf6,Nc3,Qxf3,Nxf3,Bg4,Be2,Nc6,O-O,O-O-O,d3,h6,a3,e6,Be3,Be7,Rfe1,a6,Rab1,Rd7,Nd2,Rhd8,Nde4,Bxe2,Rxe2,Nxe4,Nxe4,f5,Nc5,Bxc5,Bxc5,e5,b4,b6,Be3,g5,a4,Ne7,Rbe1,Ng6,Bd2,Rd5,Bc3,Re8,g3,Kd7,Kg2,Re6,Bb2,Ke7,Ba3,b5,a5,Rc6,Bb2,Kd6,h3,h5,Bc1,f4,Kg1,Rd4,Bb2,Rd5,Kh2,Kd7,Bxe5,Nxe5,Rxe5,Rxe5,Rxe5,Rxc2,Kg2,fxg3,Kxg3,Rd2,Rxg5,Rxd3+,f3,Rb3,Rxh5,Rxb4,Rh7+,Kc6,Rh6+,Kb7,h4,Ra4,h5,Rxa5,Rf6,b4,Rf4,b3,h6,b2', 'Rb4+,Rb5,Rxb2,Rxb2,h7', 'https://lichess.org/training/uTjcE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utjfR', 'Blitz', 'WIM cxrjs', 2379, 'santosky88', 2208, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,Bg5,h6,Bh4,g5,Bg3,Bg4,Na4,Nd4,c3,Nxf3+,gxf3,Bh3,d4,exd4,cxd4,Bb4+,Nc3,Qe7', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/utjfR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UTjRT', 'Rapid', 'mbola_lan', 1827, 'Natham08', 1896, 'e4,c6,Nf3,d5,e5,c5,c3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,Bg4,d3,e6,Nbd2,Ne7,Qa4,Qc7,Re1,Bf5,d4,c4,Qd1,Ng6,Nf1,Be7,Ng3,Bg4,Qa4,Bxf3,gxf3,O-O,Kh1,c5,Nh5,Rfb8,Rg1,cxd4,cxd4,Rb4,Qd1,Kh8,a3,Rb3,Rb1,c3', 'Qxb3,c2,Ra1', 'https://lichess.org/training/UTjRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uTLpl', 'Rapid', 'yosia35', 1645, 'Jan18', 1618, 'Nf3,c5,c4,d6,Nc3,Nf6,e4,g6,Be2,Bg7,d3,O-O,Qc2,h6,Be3,Nc6,O-O,e5,Rad1,Be6,Qc1,Kh7,Nd5,Ng8,a3,f5,exf5,Bxf5,b4,b6,b5,Nd4,Nxd4,cxd4,Bd2,Qh4,Bf3,Bxd3,Rfe1,Rxf3,gxf3,Rf8,Bb4,Rxf3,Bxd6,Qxf2+,Kh1,Re3,Nxe3', 'Be4+,Ng2,Qxg2#', 'https://lichess.org/training/uTLpl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UtMW6', 'Rapid', 'AkangKasep', 2089, 'orhangul', 1968, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,g6,c3,Bg7,Ne6,Qc8,Nxg7+,Kf7,Ne6,Qxe6,f5,gxf5,O-O,Nf6,Rxf5,Rag8,Qh5+,Rg6,d4,cxd4,Bg5,Qxe4,Bxf6', 'Qxg2#', 'https://lichess.org/training/UtMW6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uTmxj', 'Rapid', 'rhorowitz', 1680, 'A61380543THIAGO', 1680, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,c5,cxd5,exd5,Bg5,Be7,e3,Qb6,Bxf6,Qxf6,Nxd5,Qd6,Nxe7,Qxe7,h3,O-O,Qb3,Be6,Bc4,Nc6,Bxe6,fxe6,dxc5,Qxc5,Qxe6+,Kh8,O-O,Rae8,Qd7,Ne5,Nxe5,Qxe5,Qxb7,Re7,Qb4,h6,b3,Kh7,Qd4,Qg5,f4,Qg3,Rf3,Qg6,g4,h5,g5,h4,Kf2,Qh5,Qd3+,g6,Re1,Kh8,Qd6,Qh7,Qd4+,Rg7,Rc1,Qg8,e4,Rd8,Qa4,Ra8,Qc4,Qe8,e5,Rg8,Qe4,Rc8,Rxc8,Qxc8,Re3,Kh7,Kg2,Rf8,Re2,Qc3,Qa4', 'Qg3+,Kf1,Rxf4+,Qxf4,Qxf4+', 'https://lichess.org/training/uTmxj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utndx', 'Rapid', 'MagnumOpus', 1993, 'Josue-Argel', 1773, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nc3,e6,Nf3,Bd7,Bd3,Bb4,O-O,O-O,e5,Bxc3,bxc3,Nd5,Qc2,f5,exf6,Nxf6,Ng5,h6,Nh7,Nxh7,Bxh7+,Kh8,Re1,Qf6,Be4,Nc6,Bb2,Ne7,c4,Nf5,d5,e5,Rad1,Rae8,c5,c6,f4,cxd5,Rxd5,Bc6,fxe5,Qg5,Bc1,Qh5,Bxf5,Rxf5,Rd6,Rfxe5,Rxe5,Qxe5,Rxh6+,gxh6', 'Bb2,Qxb2,Qxb2+', 'https://lichess.org/training/utndx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utnWg', 'Rapid', 'Jiff_23', 1828, 'pepeillo', 1923, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,c6,Nf3,Bg4,Be2,e6,Bg5,Be7,Bxe7,Qxe7,Nxd5,cxd5,Ne5,Bxe2,Qxe2,O-O,O-O,Nc6,c3,Rac8,Nxc6,Rxc6,Rab1,a6,a3,b5,Qd3,Rfc8,Rfc1,Qb7,b4,Rc4,Rc2,Qc7,Rbc1,g6,Qe3,f5,f4,Qd6,Qe5,Qxe5,fxe5,g5,Kf2,Kg7,Kf3,Kg6,h3,h5,g3,Rf8,Rf2,f4,g4,hxg4+,hxg4,Rh8,Ke2,Rh3,Rf3,Rh4,Rg1,Rc8,Kf2,Rch8,Ke2,Rh2+,Rf2,R8h3,Rxh2,Rxh2+,Kd3,Ra2,Rh1,Rxa3,Rh8,f3,Rf8,a5,bxa5,b4,Rf6+,Kg7,Kc2,f2,Kb2,Rxa5,Rxf2,bxc3+,Kxc3,Ra3+,Kb4,Rd3,Kc5,Ra3,Rf6,Ra5+,Kb6,Ra4,Kc5,Ra5+,Kb4,Ra6', 'Kb5,Ra1,Rxe6', 'https://lichess.org/training/utnWg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utOSi', 'Classical', 'qwestnv', 1732, 'Samarin_Eduard_1986', 1737, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,d3,d6,c3,b5,Bc2,O-O,h3,Be6,Ng5,h6,Nxe6,fxe6,Be3,d5,exd5,exd5,Nd2,d4,Bxh6,gxh6,Qe2,Qe8,Bb3+,Kh7,Ne4,Rd8,Nxf6+,Rxf6,Qe4+,Qg6,Qe2,dxc3,bxc3,Qxd3', 'Bc2,e4,Bxd3', 'https://lichess.org/training/utOSi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UTpeO', 'Blitz', 'Zoril', 1991, 'feoret0', 1991, 'Nf3,Nc6,Ng5,e5,Nxf7,Kxf7,e4,Nf6,Bc4+,d5,exd5,Na5,Bb5,Qxd5,Bf1,Qe4+,Be2,Qxg2,Bf3,Qh3,Nc3,Bc5,Qe2,Bg4,Bxg4,Nxg4,Ne4,h6,Nxc5,Qg2,Rf1,Nxh2,b4,Nc6,b5,Nd4,Qc4+,Kf6,Nd7+,Ke7,Ba3+,Kxd7,O-O-O,Nxf1,Rxf1,Rhf8,f3,Rf4,Qd5+,Ke8,Qxe5+,Kd7', 'Qe7+,Kc8,Qe8#', 'https://lichess.org/training/UTpeO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utq2o', 'Rapid', 'BasemAbunasser', 1866, 'Ionitchouk', 1849, 'e4,e5,Nc3,Nc6,a3,Bc5,Bc4,Nf6,d3,a6,h3,d6,Nf3,O-O,Bg5,h6,Bh4,Ba7,Nd5,g5,Nxg5,Nxd5,Nf3,Nf6,O-O,Kg7,c3,Be6,Bd5,Qd7,d4,Nxd5,exd5,Bxd5,dxe5,Bxf3,Bf6+,Kh7,Qxf3,Nxe5,Qe4+,Kg8,Rad1,Ng6,b4,Qe6,Qf3,c6,Rfe1,Qd7,Re4,Rae8,Rg4,Kh7,c4,Re6,Bc3,Qe7,Qf5,Qd7', 'Rxg6,fxg6,Qxf8', 'https://lichess.org/training/utq2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utQlT', 'Blitz', 'Diegomolinaspy', 1541, 'Gomolin', 1540, 'd4,c5,c3,cxd4,cxd4,d5,e3,Nc6,Bb5,Bd7,Bxc6,bxc6,a3,Nf6,Nc3,e6,h3,Bd6,Nf3,O-O,O-O,Ne4,Nxe4,dxe4,Nd2,f5,Nc4,Bc7,b4,Be8,f3,Bf7,fxe4,fxe4,Nd2,Bg6,Bb2,Qd6,Rxf8+,Rxf8,Nf1,Be8,Qg4,g6,Ng3,Qd7,Nxe4,h5,Qg5,Qf7,Qh6,Qf5,Ng5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/utQlT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uTQTK', 'Rapid', 'klsoathkg', 1842, 'NewtOrange', 1729, 'e4,e6,d4,Nc6,Nf3,b6,Bb5,Bb7,Qe2,a6,Bd3,Nb4,O-O,Nxd3,cxd3,Nf6,d5,exd5,exd5+,Qe7,Qd2,Nxd5', 'Re1,O-O-O,Rxe7', 'https://lichess.org/training/uTQTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Utsng', 'Classical', 'azadvicky', 1688, 'Yurii111', 1753, 'd4,d5,c4,e5,e3,Nc6,dxe5,Bb4+,Bd2,dxc4,Bxc4,Bxd2+,Nxd2,Nxe5,Ngf3,Nxc4,Nxc4,Bg4,Qxd8+,Rxd8,Nce5,Bh5,O-O,f6,Nc4,Bxf3,gxf3,Ne7,Rad1,O-O,b3,Nc6,Rd2,b5,Rxd8,Rxd8,Na3,a6,Rc1,Nb4,Rxc7,Nxa2,Nc2,h6,Rc6,Ra8,Rb6,Ra7,Kf1,Rc7,Nd4,Nb4,Kg2,Kf7,Kg3,g6,Kf4', 'Nd5+,Ke4,Nxb6', 'https://lichess.org/training/Utsng');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utSza', 'Rapid', 'kamaraju', 1734, 'Shoyo_Hinata', 1829, 'e4,e6,d4,d5,exd5,exd5,Nc3,c6,Nf3,Bg4,h3,Bh5,g4,Bg6,Ne5,Nf6,Nxg6,hxg6,Bg2,Bb4,Qe2+,Qe7,Qxe7+,Bxe7,Bg5,O-O,O-O-O,Nbd7,Rde1,Bd6,h4,Nxg4,h5,gxh5,Rxh5,Nxf2,Rf1,Ng4,Rfh1,f6,Bd2,Nf2,Rf1,Ng4,Bh3,g6,Rh4,f5,Bxg4,fxg4,Rxf8+,Rxf8,Rxg4,Rf1+,Nd1,Kg7,Rg2,Nf6,Rf2,Rxf2,Nxf2,Bg3,Nd3,Ne4,Be3,g5,b3,Kg6,c4,Nc3,a4,dxc4,Kc2,Ne4,bxc4,Kf5,d5,Bf4,Bg1,cxd5,cxd5,g4,Bxa7,g3,Nxf4,Kxf4,Bb8+,Kf3,d6,g2,d7,g1=Q,d8=Q,Qc5+,Kb3,Qc3+,Ka2,Qc4+,Ka3,Qc5+,Kb2,Qb4+,Kc2', 'Qc3+,Kb1,Nd2+,Qxd2,Qxd2', 'https://lichess.org/training/utSza');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UtT6s', 'Blitz', 'FM shak-tank', 2552, 'Sahkovalayan', 2080, 'd4,e5,dxe5,Bc5,Nf3,d6,exd6,Ne7,Nc3,Bxd6,g3,Nbc6,Bg2,Be6,O-O,Qd7,e4,O-O-O,Be3,Bh3,Qe2,f6,Rfd1,g5,Nb5,Bxg2,Kxg2,Qg4,Nxd6+,Rxd6,Rxd6,cxd6,Qc4,Kb8,h3', 'Qxf3+,Kxf3,Ne5+,Ke2,Nxc4', 'https://lichess.org/training/UtT6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utupf', 'Classical', 'eraman_03', 1665, 'Amurovi4', 1684, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,d6,O-O,Nf6,h3,a6,a4,Bd7,Be3,Na5,b3,Nxc4,bxc4,c5,Nc3,Bc6,Nd2,Be7,f4,a5,fxe5,dxe5,Nf3,Bd6,Bc1,O-O,Bb2,Re8,Nb5,Bxb5,cxb5,b6,c3,Qe7,Re1,Rad8,d4,exd4,cxd4,cxd4', 'e5,Bc5,exf6', 'https://lichess.org/training/utupf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UTuup', 'Rapid', 'PawnAko', 2183, 'Rinat47', 2199, 'd4,Nf6,Nf3,d5,Bf4,c5,e3,Nc6,c3,Qb6,Qc2,Bf5,dxc5,Bxc2,cxb6,axb6,Na3,Rxa3,bxa3,e6,Kd2,Ba4,Bd3,Bxa3,Rab1,Nd7,Bc7,Bc5,Nd4,e5,Nf5,O-O,Bd6,Ra8,Bxc5,Nxc5,Rxb6,Nxd3,Kxd3,e4+,Kd2,Bb5,Rxb5,Rxa2+,Kc1,Rxf2,Nd4,Nxd4,exd4,Rxg2,Rxb7,g5,Rb2,Rxb2,Kxb2,f5,c4,f4,c5,Kf7,Kb3,f3,Rf1,g4,Kb4', 'e3,Kc3,e2,Rxf3+,gxf3', 'https://lichess.org/training/UTuup');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uTWmN', 'Rapid', 'firouz1', 1968, 'habib1350', 1978, 'e3,d5,d4,Bf5,Nd2,Nf6,c4,dxc4,Bxc4,e6,Qb3,Qc8,d5,exd5,Bxd5,Nxd5,Qxd5,c6,Qe5+,Qe6,Ngf3,Qxe5,Nxe5,f6,Nef3,Bb4,O-O,O-O,a3,Ba5,b4,Bb6,Bb2,Nd7,Nc4,Bc7,Rad1,Rad8,Nd6,Bxd6,Rxd6,Nb6,Rfd1', 'Rxd6,Rxd6,Nc4', 'https://lichess.org/training/uTWmN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('utYhL', 'Rapid', 'Kun523', 2101, 'Hynek2010', 1901, 'e4,c5,Nf3,Nc6,Bb5,g6,Nc3,Bg7,d3,e6,O-O,Nge7,Be3,b6,Qd2,O-O,Bh6,Bb7,Qf4,d5,Qh4,a6,Bxc6,Nxc6,Ng5,d4,Bxg7,Kxg7,Qxh7+,Kf6,e5+,Nxe5,Nce4+,Bxe4,Nxe4+,Ke7,Qg7,Nd7,Ng5,Ke8,Nh7,Ke7,Nxf8,Qxf8,Qxf8+,Nxf8,f4,Nd7,Rae1,Nf6,h3,Nd5,a3,Ne3,Rf2,b5,c3,Nf5,g4,Nd6,cxd4,cxd4,Kh2,Rc8,f5,gxf5,gxf5,Kd7,fxe6+,fxe6,Rfe2,Re8,Rg1,Nf5,Re4,Rc8,Re2,Re8,Rc2,Ne3,Rg7+,Kd6,Rcc7,Rf8,Rgd7+,Ke5,Rc5+,Nd5,Rc2,Ne3,Re2,Rg8,Ra7,Kd5,Rxa6', 'Nf1+,Kh1,Ng3+,Kg1,Nxe2+', 'https://lichess.org/training/utYhL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UTyoo', 'Rapid', 'Bird94', 1638, 'ShoesTaxi', 1600, 'f4,d5,Nf3,Nc6,g3,Bg4,Bg2,Nf6,d3,e6,O-O,Bxf3,Bxf3,Bc5+,e3,Bxe3+,Bxe3,O-O,Nc3,Re8,Nb5,e5,Bc1,a6,Na3,e4,dxe4,dxe4,Qxd8,Raxd8,Bg2,e3,Bxc6,bxc6,Re1,e2,Kf2,Ng4+,Kg2', 'Rd1,Bd2,Rxd2', 'https://lichess.org/training/UTyoo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uTZyF', 'Rapid', 'LionAndy', 2129, 'Phoenixwings', 1984, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Bxd7+,Bxd7,d4,cxd4,Nxd4,Nf6,Re1,e5,Nf5,Bxf5,exf5,Be7,c4,O-O,Nc3,Rc8,b3,b5,Nd5,bxc4,bxc4,Rxc4,Ba3,Rd4,Nxe7+,Qxe7', 'Qxd4,exd4,Rxe7', 'https://lichess.org/training/uTZyF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uu24e', 'Classical', 'ReinerWeiss', 1834, 'Paky', 1874, 'e4,c5,b4,b6,f4,e6,b5,d5,e5,a6,Nf3,Ne7,g4,Ng6,d4,Be7,g5,Bd7,Nc3,cxd4,Nxd4,Bb4,Qf3,O-O,h4,axb5,h5,Ra3,hxg6,Rxc3,Qh5,fxg6,Qxh7+,Kf7,Rh6,Rh3+,Bd2,Bxd2+', 'Kxd2,Rxh6,gxh6,Qh4,Qxg7+', 'https://lichess.org/training/Uu24e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uU2YN', 'Rapid', 'Discalie', 1925, 'Vlodkov', 1830, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,Re1,Be7,c4,O-O,Nc3,Nd4,Nxd4,exd4,Nd5,Bd7,Bc2,c5,b3,Re8,Bb2,Bf8,Qf3,Nxd5,exd5,Qa5,Qd3,g6,a4,Bf5,b4,Bxd3,bxa5,Bxc2,Rec1,Bf5,h3,Bd7,f3,Rab8,Kf2,Bg7,d3,Re3,Rd1,Rbe8,Rd2,f5,Rb1,Bxa4,Ba3,R8e7,Rb6,Rd7,Bc1,Ree7,Rdb2,Rc7,Rxd6,Kf7,Rdb6,Red7,Bf4,Rc8,Rxb7,Rxb7,Rxb7+,Kg8,Rb6,Bc2,Ke2,h6,Rxa6,g5,Bd6,h5,Rc6,Rxc6', 'dxc6,Ba4,c7,Bd7,a6', 'https://lichess.org/training/uU2YN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uU9Ns', 'Rapid', 'John_garcia0682', 2136, 'szachulec10', 2098, 'e4,e5,d4,exd4,Bc4,Nf6,e5,d5,Bb3,Ne4,Nf3,Bc5,Nxd4,Nc6,Ba4,Bd7,Bxc6,Bxc6,O-O,O-O,Nxc6,bxc6,c4,Re8,Qc2,Rxe5,cxd5,Qxd5,Nc3,Nxc3,Qxc3,Rae8,Bf4,Rf5,Bxc7,Re2,Bg3,Rg5,Rad1,Bxf2+,Kh1,Bd4,Qf3,Qxf3,gxf3,Bb6,Rd6,Rxb2,Rxc6,h6,Rc8+,Kh7,f4,Ra5,Rf8,f6,Ra1,Raxa2,Rxa2,Rxa2,Ra8,a5,f5,a4,Bd6,Bd4,Bf8,Bb2,Ra7,a3,Rxg7+,Kh8,Ra7,Ra1+,Kg2,a2,Bxh6,Bd4,Ra8+,Kh7,Bf4,Rg1+,Kh3,a1=Q,Rxa1,Bxa1,Bg3,Be5,Kh4,Kh6,Kg4,Kg7,Kh4,Kf7,Kg4,Ke7,Kf3,Kd6,Kg4,Kd5,Kf3,Kd4', 'Bf2+,Kd5,Bxg1', 'https://lichess.org/training/uU9Ns');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uu9oX', 'Bullet', 'Pattstattmatt', 1550, 'aaadam', 1524, 'e4,e6,f4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,Bf1,Bxf4,d4,Bxc1,Qxc1,O-O,Bd3,Re8+,Ne5,Ng4,O-O,Nxe5,dxe5,Rxe5,Qf4,Re7,Qh4,g6,Nd2,Be6,Rf6,Nd7,Raf1,Nxf6,Qxf6,Re8,Qd4,Qd6,Nf3,c5,Qh4,c4,Ng5,cxd3', 'Qxh7+,Kf8,Rxf7+,Bxf7,Qxf7#', 'https://lichess.org/training/Uu9oX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uUa07', 'Rapid', 'kamil_roz89', 1923, 'goldchess81', 1932, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Bc5,Qf3,Qe7,Nd3,f5,Nxc5,Qxc5,c3,Nf6,exf5,Qxf5,Qxf5,Bxf5,O-O,O-O,d4,Rfe8,f3,Re6,Bf4,Nd5,Bd2,Re2,Rf2,Rae8,Na3,Bd3,Rc1', 'Rxf2,Kxf2,Re2+,Kg3,Rxd2', 'https://lichess.org/training/uUa07');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uUAYi', 'Blitz', 'Galactic-Hitchhiker', 1864, 'Look4Cheapos', 1964, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bd3,Bxd3,Qxd3,Qa5+,c3,Qa6,Qf5,e6,Qf3,c5,Nh3,cxd4,Ng5,Nh6,cxd4,Nf5,Be3,Qa5+,Nc3,Bb4,O-O,Nc6,a3,Bxc3,bxc3,Qxc3,Rab1,Rb8,Rfc1,Qxa3,Rxc6,Qd3,Rcc1,b6,Ra1,a5,Rc7,Rf8,Qxh5,g6,Qh7,Nxe3,Rxf7,Qc3,Re7+,Kd8,Rd7+,Kc8,Rb1,Qc2,Re1', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/uUAYi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UuC7A', 'Classical', 'citronella', 2009, 'UPSalla8', 1882, 'd4,Nf6,Bf4,d5,Nf3,c5,e3,e6,c3,Nc6,Bd3,Bd6,Bg3,O-O,Nbd2,b6,O-O,Bb7,Ne5,cxd4,Nxc6,Bxc6,exd4,Rc8,Qe2,Re8,Nf3,Bxg3,hxg3,Ne4,Ne5,Bb7,Qh5,Qe7,f3,Nf6,Qh4,a6,g4,g6,Kf2', 'Ne4+,fxe4,Qxh4+', 'https://lichess.org/training/UuC7A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UuCEP', 'Rapid', 'Inmea5urab1e', 1759, 'Jazzzz65', 1753, 'd4,Nf6,Nf3,e6,c3,d5,Bg5,h6,Bh4,g5,Bg3,Bd7,h3,Bb5,a3,Bd6,Bxd6,Qxd6,Ne5,Nbd7,Nxd7,Nxd7,b4,O-O-O,Nd2,f5,a4,Bc4,Nxc4,dxc4,e3,Qd5,Qe2,e5,Qxc4,Qxc4,Bxc4,exd4,cxd4,Nb6,Be6+,Kb8,Bxf5,Rhf8,Bg4,Nd5,b5,Nc3,O-O,Ne4,Bf3,Nf6,a5,b6,axb6,cxb6,Rac1,h5,Rc6,g4,hxg4,hxg4,Be2,Rc8,Rfc1,Rxc6,Rxc6,Kb7,Re6,Rf7,f3,gxf3,Bxf3+,Kc7,e4,Kd7,d5,Ne8,Rc6,Rg7,e5,Nc7,e6+,Kd8,Rc4,Nxb5,Rb4,Nd6,Rh4,Ke7,Rh8,Kf6,Rf8+,Ke7,Rb8,Kf6,Rd8,Ke5,Rd7,Rxd7,exd7,Nf7,Bh5,Nd8,Bf7,Kd6,Be6,a5,Kf1,a4,Ke1', 'a3,Kd2,a2', 'https://lichess.org/training/UuCEP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uuCOl', 'Blitz', 'saeedmz', 2140, 'SleepHunter008', 2141, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Qe2,Nxe4,Qxe4,Be7,O-O,O-O,c4,Rb8,Bf4,Bd6,Ne5,Bxe5,dxe5,Qe7,Rfd1,b6,Qe3,Bb7,Bg5,Qe8,Rd2,h6,Bxh6,gxh6,Qxh6,f5,exf6,Qf7,Rd3,Qxf6,Rg3+,Kf7,Qh7+,Ke8,Rf1,Rd8,Qxc7,Ba8,Qxa7', 'Qxf2+,Rxf2,Rd1+,Rf1,Rdxf1#', 'https://lichess.org/training/uuCOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UUd3F', 'Classical', 'Yuri_Begunov', 2190, 'FEDORMELNIKOV', 2070, 'Nf3,d6,d4,b6,c4,Bb7,Nc3,Nd7,Bg5,c5,d5,a6,e4,Qc7,Bd3,O-O-O,Qb3,Kb8,O-O-O,h6,Bh4,g5,Bg3,Bg7,h3,Ngf6,Rhe1,Nh5,Bh2,Nf4,Bxf4,gxf4,Nh4,Ne5,Nf5,Bf6,g4,h5,Rg1,hxg4,hxg4,e6,g5,Nf3,gxf6,Nxg1,Nxd6,Qxd6,Rxg1,exd5,Nxd5,Bxd5,cxd5,Qxf6,Bxa6,Rd6,Bb5,Rdd8,Bc6,Kc7,Qa4,Qd4,Qa7+,Kd6,Qxf7,Qc4+,Kb1,Qxe4+,Ka1,c4,Qf6+,Kc5,Qc3,b5,Qa3+,Kb6,Qb4,Rxd5,Bxd5,Qxd5,Rg6+,Kb7,Rg7+,Kc8,Rg1,Rh1,Qe1,Rxg1,Qxg1,b4,Qg4+,Kb7,Qe2', 'Qh1+,Qd1,Qxd1#', 'https://lichess.org/training/UUd3F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uue56', 'Blitz', 'BrunoAlejandro', 2271, 'IM maxip32', 2426, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nde2,h5,g3,Be6,Bg2,Nbd7,a4,b6,O-O,Be7,Nd5,Nxd5,exd5,Bf5,c4,Qc7,b3,O-O,Nc3,Nc5,Be3,Bg6,Rc1,a5,Nb5,Qd7,f4,exf4,gxf4,h4,Bd4,Bf5,Rc3,Ne4,Re3,Nc5,Rfe1,Bd8,Qe2,Bg6,Kh2,Bf6,Bxf6,gxf6,Bf3,Qf5,Nxd6', 'Qxf4+,Kh1,Qxd6', 'https://lichess.org/training/uue56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UUecq', 'Rapid', 'zellap', 2153, 'Loan_2020', 2084, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,h6,Bh4,b6,cxd5,Nxd5,Bxe7,Nxe7,b4,Bb7,Be2,Nd7,O-O,Nf6,Qc2,Ned5,a3,Nxc3,Qxc3,Ne4,Qb2,Ng5,Ne5,Qd5,f3,Nh7,Rac1,Nf6,Rxc7,Rfc8,e4,Nxe4,fxe4,Qxe4,Bf3', 'Qe3+,Kh1,Rxc7', 'https://lichess.org/training/UUecq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uueo7', 'Rapid', 'Goganko', 1667, 'edycorp', 1794, 'e4,d6,Nf3,Nf6,Nc3,Nc6,d4,Bg4,d5,Ne5,Be2,Bxf3,Bxf3,c6,Bf4,Nxf3+,Qxf3,cxd5,exd5,Qa5,O-O,Rc8,a3,Qb6,b4,Qc7,Bd2,Qd7,Rfe1,g6,Bg5,Bg7', 'Bxf6,Bxf6,Qxf6', 'https://lichess.org/training/Uueo7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uUfnO', 'Rapid', 'deterralba', 1575, 'elijahNy', 1631, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Bb4,Bb5+,c6,Ba4,Qe7+,Be3,b5,Bb3,Ne4,O-O,Nxc3,bxc3,Bxc3,Rb1,O-O,Ng5,a5,Qd3,g6,Qxc3,a4,Nf3,axb3,axb3,Bf5,Bg5,Qd6,Bh6,Re8,Ra1,Rxa1,Rxa1,Nd7,Ne5,Nxe5,dxe5,Qxe5', 'Qxe5,Rxe5,Ra8+,Bc8,Rxc8+,Re8,Rxe8#', 'https://lichess.org/training/uUfnO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uuFuJ', 'Rapid', 'coelhinho', 1962, 'Bucher62', 1904, 'e4,e6,g3,d5,exd5,exd5,Bg2,Nf6,Nc3,d4,Qe2+,Be7,Ne4,O-O,d3,c6,Bg5,Nxe4,Bxe7,Qxe7,Bxe4,Re8,O-O-O,f5,Bf3,Nd7,Re1', 'Qg5+,Kb1,Rxe2', 'https://lichess.org/training/uuFuJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uuj56', 'Blitz', 'mobileloser', 2139, 'JunctionPool', 1760, 'd4,Nf6,Bg5,g6,e3,Bg7,Bd3,b6,Nd2,Bb7,Ngf3,O-O,O-O,d6,c3,Nbd7,Qe2,e5,dxe5,dxe5,Rad1,Nc5,Bc4,Qe7,b4,Ne6,Nxe5,Nxg5,Nef3,Nxf3+,Nxf3,Bxf3,Qxf3,Rad8,Bb3,Ne4,Rxd8,Rxd8,Rd1,Rxd1+,Qxd1,Qd6,Qf3,Nxc3', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/uuj56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UuJiq', 'Rapid', 'H3H3', 1906, 'perrecho', 1895, 'd4,e6,Nf3,d5,g3,c5,Bg2,Nc6,O-O,Nf6,e3,Bd7,c4,Be7,Nc3,dxc4,Ne5,O-O,Nxc6,Bxc6,Bxc6,bxc6,Ne2,Qb6,dxc5,Bxc5,Qc2,Qb5,Bd2,Rab8,Bc3,Rfd8,Rfd1,Nd5,Nd4,Bxd4,Bxd4,c5,Be5,Rbc8,e4,Nb4,Qc3,f6,Bxf6,gxf6,Qxf6,Qe8,Qg5+,Kh8,Qe5+,Kg8,Qg5+,Kf7,Qh5+,Kf6,e5+,Kg7,Qg4+,Qg6,Qxc4,Rd3,a3,Rxd1+,Rxd1,Nd5,b4,Qe8,bxc5,Qc6,Qg4+,Kh8,Qf3,Qxc5,Qf7,Qe7,Qf3,Rf8,Qd3,Qf7,Rd2,Qf5,Qd4,Qb1+,Kg2,Qf5,a4,h5,a5,Qg4,Qxa7,Nf4+,Kf1,Nh3,Qe3,Qc4+,Kg2,Qg4,a6,Nf4+,Kf1', 'Qh3+,Ke1,Ng2+,Ke2,Nxe3', 'https://lichess.org/training/UuJiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UuJKM', 'Rapid', 'staeph', 1783, 'Zenga', 1712, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,Be7,e3,b6,Bd3,O-O,O-O,Bb7,Bd2,Nbd7,Rc1,a6,Qb3,c5,dxc5,Nxc5,Qc2,Nxd3,Qxd3,Rc8,cxd5,Nxd5,Rfd1,Bd6,Be1,Nxc3,Bxc3,Bxf3,gxf3,Qg5+,Kh1,Rfd8,Qe4,Qh5,f4,e5,Rg1,g6,Rg5,Qh4,Rcg1,Qxf2,f5,Qe2,fxg6,hxg6,Rxg6+,fxg6,Qxg6+,Kf8,Qg8+,Ke7', 'Rg7+,Kf6,Qf7#', 'https://lichess.org/training/UuJKM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uuKol', 'Rapid', 'Tolya-123', 1919, 'pernandus', 1971, 'e4,e5,Bc4,Nf6,Nc3,Bc5,d3,h6,h3,O-O,Nge2,c6,a3,d5,exd5,cxd5,Bb3,Nc6,O-O,Bf5,Kh2,Qd6,f3,e4+,Bf4,Qe6,fxe4,Ng4+,hxg4,Bxg4,Bxd5,Qg6,d4,Nxd4,Qd2,Qh5+,Kg3,g5,Nxd4', 'Qh4#', 'https://lichess.org/training/uuKol');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uulcu', 'Rapid', 'Sharon_Macoochi', 1921, 'YurySemenov', 1946, 'e4,c5,Nf3,d6,b4,cxb4,d4,Nc6,d5,Na5,a3,bxa3,Rxa3,b6,e5,dxe5,Bb5+,Bd7,Bxd7+,Qxd7,Nxe5,Qd6,Bf4,Qb4+,Bd2,Qe4+,Re3,Qxd5,O-O,Nc4,Nc3,Qxd2,Nb5,Qxd1,Rxd1,Rc8,Nxc4,Rxc4,Nd6+,Kd7,Nxf7+,Kc6,Ne5+,Kc5,Nd7+,Kb5,Rb1+,Kc6,Nxf8,Nf6,Re6+,Kc5,Rxe7,Rxf8,Rc7+,Kd4,Rd1+,Kc3,Rxa7,Kxc2,Raa1,Rcc8,Rac1+,Kb3,Rb1+,Kc2,Rbc1+,Kb3,Rb1+,Kc4,Rxb6,Rfd8,Re1,Kc5,Rb7,g6,Rf7,Rc6,Rc1+,Kd6', 'Rxf6+,Ke5,Rfxc6', 'https://lichess.org/training/Uulcu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UuNFt', 'Rapid', 'chessfort', 2224, 'kasquarrov', 1929, 'Nc3,e5,Nf3,d6,d4,Nd7,e4,Be7,Bc4,Ngf6,O-O,O-O,Re1,c6,Bg5,Ne8,Bxe7,Qxe7,Qd2,h6,Rad1,a5,a3,b5,Bb3,Ndf6,d5,b4,Na4,c5,h3,Nh5,Nb6,Rb8,Nxc8,Rxc8,g3,Qa7,c3,c4,Bc2,b3,Bb1,Nxg3,Kg2,Nh5,Nh4,Nf4+,Kh2,Qe7,Nf5,Qg5,Rg1,Qh4,Qe3,Qh5', 'Ne7+,Kh8,Nxc8', 'https://lichess.org/training/UuNFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uuOqn', 'Rapid', 'aknaithani', 1968, 'Meersam', 1933, 'e4,c6,d4,d5,f3,Qc7,c4,e5,Nc3,exd4,Qxd4,dxe4,Qxe4+,Be6,Bf4,Qa5,Ne2,Nf6,Qe3,Bc5,Qd3,O-O,O-O-O,Nbd7,Kb1,Nb6,b3,Qb4,Ka1,a5,Ne4,Nxe4,Qxe4,a4,Bd2,Qa3,Bc1,Qb4,Bd2,Qa3,Bc1,Bd4+,Qxd4,Qe7,Nf4,axb3,Nxe6,Qxe6,Qxb6,Rxa2+,Kb1,Qf5+,Bd3,Qe5,Qxb3', 'Qa1#', 'https://lichess.org/training/uuOqn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uUR0d', 'Classical', 'Atos-04', 1927, 'xeroxx', 1990, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bc4,e6,Nf3,Be7,Bg5,O-O,O-O,a6,Bd3,b5,Bxf6,Bxf6,Ne4,Bxd4,Nxd4,Qxd4,c3,Qe5,Re1,Bb7,Ng3,Qd5,f3,Nc6,Qc2,h6,Be4,Qc5+,Kh1,Rfd8,Rad1,Qb6,Nh5,Na5,Bh7+,Kf8,Nf4,Nc4,Be4,Rxd1,Qxd1,Nxb2,Qd7,Bxe4,Rxe4,Qd6,Rd4,Qe7', 'Ng6+,fxg6,Rf4+', 'https://lichess.org/training/uUR0d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UUres', 'Rapid', 'Arione', 1925, 'Samarthmahajan14', 1922, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Be7,Bxc6,dxc6,Nxe5,Bd6,Nf3,Qe7,Bg5,Bg4,h3,Bh5,Nbd2,h6,Bxf6,Qxf6,O-O,O-O,c3,Rad8,Qc2,Rfe8,d4,Bf4,e5,Qe6,Rfe1,f6,Re4,Bg6,exf6', 'Bxe4,Nxe4,Qxe4', 'https://lichess.org/training/UUres');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uUScV', 'Rapid', 'jordbear', 1834, 'Elwynenpassant', 1682, 'e4,e6,Nf3,d5,exd5,exd5,d4,c5,dxc5,Bxc5,Bb5+,Nc6,Bxc6+,bxc6,O-O,Be6,Ne5,Qd6,Bf4,Nf6,Ng6,Qd7,Nxh8,Ke7,Nxf7,Kxf7,Be5,Ne4,Qh5+,Kg8,Kh1,Rf8,f3,Nf2+,Rxf2,Bxf2,Nc3', 'Rf5,Qxf5,Bxf5', 'https://lichess.org/training/uUScV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UuSMb', 'Classical', 'mcfry999', 1952, 'Rambler_14', 2041, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,a6,Bxc6+,bxc6,Be3,Ne7,Nf3,Nf5,O-O,Be7,Nbd2,Bb7,Nb3,cxd4,cxd4,O-O,Rc1,Qb6,Bd2,Qd8,Ba5,Qd7,Bb6,f6,Nc5,Bxc5,Bxc5,Rf7,exf6,gxf6,h3,Rg7,Qd2,Kh8,g4,Rag8,Kh2,Nd6,Qf4,Ne4,Rce1,f5,Rxe4,dxe4,Ne5,Qc7,gxf5,Rg2+,Kh1,Qg7,Ng4,Rxg4,hxg4,exf5,Qxf5,Bc8,Qe5,Bxg4,Rg1,Bf3+,Kh2,Qxe5+,dxe5,Rxg1,Kxg1,Kg7,e6,Kf6,e7,Kf7,Kh2,Bh5,Kg3,Ke6,Kh4,Bg6,Kg5,Kd5,Bb6,c5,Kf6,c4,Kg7,Kc6,Bd8,Kd7,Kf8,h5,Bb6,h4,Be3,h3,Bf4,a5,a3,a4,Bg3,Ke6,e8=Q+', 'Bxe8,Kxe8,Kf5,Ke7,Kg4,Bd6,Kf3', 'https://lichess.org/training/UuSMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UUVvO', 'Rapid', 'Sergnik', 1814, 'xlike', 1832, 'c4,c6,Nc3,d5,cxd5,cxd5,e3,Nf6,Bb5+,Nc6,Nf3,Bg4,Qa4,Bd7,Nd4,Nxd4,Qxd4,e6,O-O,Rc8,Bxd7+,Nxd7,e4,Rc4,Qxa7,dxe4,b3,Rc7,Nxe4,Be7,Ba3,O-O,Bxe7,Qxe7,Qe3,Rfc8,Qh3,Ne5,Qg3,Nc6,Rac1,Nd4,Rxc7', 'Ne2+,Kh1,Nxg3+', 'https://lichess.org/training/UUVvO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uuVw1', 'Rapid', 'wasiwan', 1743, 'naikus', 1760, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,c4,c6,cxd5,cxd5,Bb5+,Nc6,Ne5,Bd7,Nxd7,Nxd7,Be3,Bb4+,Nc3,Qa5,Qd2', 'Bxc3,Qxc3,Qxb5', 'https://lichess.org/training/uuVw1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UuWFF', 'Rapid', 'Mlnrbjn', 1792, 'Ebadi1-0', 1767, 'e4,c5,Nf3,Nc6,Nc3,Nf6,d4,d5,e5,Ne4,Bb5,Nxc3,bxc3,Bd7,dxc5,e6,Be3,Be7,O-O,Qc7,c4,O-O,cxd5,exd5,Qxd5,Rfd8,Qe4,a6,Bd3,g6,Rfe1,Bf5,Qf4,Bxd3,cxd3,Rxd3,Ng5,Bxg5,Qxg5,Nxe5', 'Bf4,Nf3+,gxf3', 'https://lichess.org/training/UuWFF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UUWkc', 'Rapid', 'alano1', 1724, 'shivprasad123s', 1728, 'c4,g6,e3,Bg7,Nc3,Nf6,d4,d6,Nf3,O-O,Be2,c6,O-O,c5,d5,e6,Bd2,exd5,cxd5,Bg4,Rc1,b6,b3,Bxf3,Bxf3,Nbd7,Nb5,Ne5,Nc3,Qd7,e4,Rfe8,h3,Qe7,Re1,Nd3,Bg5,Nxc1,Qxc1,Qd7,Bxf6,Bxf6,Bg4,Qc7,Nb5,Qd8,a4,a6,Nc3,Bxc3,Qxc3,Re5,f4,Re7,Bf3,Qf8,e5,Qg7,Qd3,Rd8,e6,fxe6,dxe6,Qd4+,Qxd4,cxd4,Rd1,Rxe6,Bd5,Kf7,Bxe6+,Kxe6,Rxd4,Rc8,b4,Rc1+,Kh2,Ra1,b5,axb5,axb5,Rb1,Re4+,Kf5,Re7,h5,Rd7,Ke6,Rg7,Rxb5,Rxg6+,Kd7,Rg7+,Ke6,Rg6+,Ke7,Rg7+,Ke6,Rg6+,Kd5,Rg5+,Kc6,f5,h4,g4,Rb1,f6,Rf1,Rf5', 'Rxf5,gxf5,Kd7', 'https://lichess.org/training/UUWkc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UUwpT', 'Rapid', 'rsandzimier', 1777, 'alisherturdyev', 1759, 'e4,e5,Bc4,Bc5,Nf3,d6,h3,h6,c3,a6,d4,exd4,cxd4,Ba7,Be3,Nf6,Nbd2,O-O,O-O,b5,Bb3,c5,dxc5,Bxc5,Bxc5,dxc5,e5,Nh7,Bc2,Nc6,Qb1,Ng5,Nxg5,Qxg5,Nf3,Qe7,Re1,Bb7,a3,b4,axb4,Nxb4,Be4,Bxe4,Qxe4,Rad8,Red1,Rd7,e6,Re8,Ne5', 'Rxd1+,Rxd1,Qxe6', 'https://lichess.org/training/UUwpT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UUXs2', 'Rapid', 'vito1981', 1688, 'Zoecir', 1611, 'e4,e5,Nf3,Bc5,Bc4,c6,Nxe5,d5,Qf3,f6,exd5,b5,Qe4,bxc4', 'Nxc6+,Ne7,Nxd8', 'https://lichess.org/training/UUXs2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UUYSt', 'Blitz', 'chel20032003', 2069, 'Dorianjosh', 2218, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Bxc6,dxc6,Rxe5+,Be7,Qe1,Nc4,Re4,Nd6,Re5,Nc4,Re4,Be6,Nc3,O-O', 'Rxe6,fxe6,Qxe6+,Kh8,Qxc4', 'https://lichess.org/training/UUYSt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uv0W1', 'Rapid', 'Gantmajer', 2220, 'andresoide', 2178, 'e4,d6,f4,e5,Nf3,Nd7,Bc4,exf4,d4,g5,O-O,Be7,c3,Nb6,Bb3,Bg4,Nbd2,Qd7,Nc4,Nxc4,Bxc4,f5,e5,dxe5,Qb3,Bxf3,Rxf3,e4,Bf7+,Kd8,Rf1,Nf6,Qxb7,Qc8,Qc6,Rb8,Be6,Nd7,Bxf5,Rb6,Qxe4,Qb7,Qxb7,Rxb7,b4,h5,Bd2,Rf8,Bd3,Rb6,Rae1,Rbf6,Re4,R6f7,Bc4,Rf5,Rfe1,f3,gxf3,Bd6,Be6,Rxf3,Bxg5+,Kc8,R4e3,Rf2,R3e2,Bxh2+,Kh1,Bg3,Rxf2,Rxf2,Re3,h4,Bg4,c6,a4,Rh2+,Kg1,Ra2,Re8+,Kc7,Bd8+,Kd6,Be7+,Kc7,Rd8,Nb6,Rh8,Nxa4,Rh7,Kb6,Bd8+,Kb5,Be6,Ra1+,Kg2,Nxc3', 'Rb7+,Ka4,Rxa7+', 'https://lichess.org/training/uv0W1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uV15p', 'Blitz', 'hgmlkss', 2158, 'IM Satsanga', 2334, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,O-O,Bg7,d3,Bg4,h3,Bxf3,Qxf3,Nf6,Nc3,Nd7,Be3,b6,Qe2,e5,f4,exf4,Rxf4,O-O,Raf1,Ne5,R4f2,Qe7,Qd2,Rad8,Bg5,f6,Bh6,Nc4,Qc1,Bxh6,Qxh6,Nxb2,Ne2,Na4,Rf3,c4,Nf4,cxd3,cxd3,Qg7', 'Qxg7+,Kxg7,Ne6+', 'https://lichess.org/training/uV15p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uv1PS', 'Rapid', 'dodiddone91', 1700, 'erhan153', 1713, 'e3,d5,c4,Nf6,cxd5,Nxd5,Bc4,Nb6,Qb3,e6,d4,Bd6,Nc3,O-O,Ne4,Nc6,Bd3,Bd7,Ne2,Na5,Qc2,Bc6,Nxd6,cxd6,Bxh7+,Kh8,b3,Bxg2,Rg1,Bf3,Bb2,Nd5,Nf4,Nxf4,exf4,Qh4,d5,Qxh7', 'Bxg7+,Qxg7,Rxg7', 'https://lichess.org/training/Uv1PS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UV1zg', 'Rapid', 'MILETA1234', 1872, 'Cheshire81', 1776, 'e4,Nc6,Nf3,d6,Bb5,Bd7,O-O,Nf6,d3,g6,a3,Bg7,c3,O-O,Bc4,Na5,Ba2,b5,b4,Nb7,h3,c5,bxc5,dxc5,Be3,Qc7,Nbd2,e6,Rc1,Bc6,Ng5,h6,Ngf3,a5,Nb3,Rfd8,Qe2,c4,dxc4,bxc4,Nbd2,Nxe4,Nxe4,Bxe4,Qxc4,Qxc4,Bxc4,Nd6,Be2,Rac8,Nd4,Nf5,Nxf5,exf5,f3,Bb7,Bb6,Rd2,Rfe1,Bxc3,Rxc3,Rxc3,Bxa5,Rxe2,Rxe2,Rxa3,Bb4,Ra1+,Kh2,Ba6', 'Re8+,Kg7,Bc3+,f6,Bxa1', 'https://lichess.org/training/UV1zg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uV2Cg', 'Rapid', 'monasfirdaus', 1970, 'Boumazigh', 1869, 'e4,e5,f4,Nc6,Nf3,Bd6,Bc4,Na5,Be2,Ne7,d3,O-O,f5,Nec6,c3,b6,b4,Nb7,a4,a5,b5,Na7,O-O,c6,c4,cxb5,axb5,Nc5,Nc3,Bb7,Bg5,Be7,h4,h6,Bxe7,Qxe7,g4,d6,g5,hxg5,hxg5,Rfd8,Nd5,Bxd5,exd5,e4,dxe4,Nxe4,f6,Qd7,Nd4,Qh3,Qd3,Nxg5,Qxh3,Nxh3+,Kh2,Ng5,fxg7,Kxg7,Nf5+,Kg6,Ne7+,Kg7,Rg1,Rh8+,Kg2,f6,Nf5+,Kg6,Nxd6,Nc8,Bd3+,Kg7,Nf5+,Kf7,Rae1,Ra7,Kg3', 'Rh3+,Kf2,Rxd3', 'https://lichess.org/training/uV2Cg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uv36P', 'Rapid', 'GarryKristoffenson', 1736, 'kumar6117', 1725, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Ne7,e5,Nc6,Qe4,d6,Bc4,dxe5,f4,Qd4,Qxd4,exd4,c3,dxc3,Nxc3,Bf5,Nd5,Bd6,h3,f6,g4,Be4,O-O,Na5,Re1,Bc5+,Kh2,O-O-O,Rxe4,c6,Nc3,Nxc4,Rxc4,Bb6,Na4,Bc7,Be3,a6,Rac1,Rhe8,R4c3', 'Rxe3,Rxe3,Bxf4+,Kg2,Bxe3', 'https://lichess.org/training/Uv36P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uV4HQ', 'Blitz', 'Estref_01', 2135, 'YasoKuhl', 2153, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bc4,Qc7,Bb3,Nf6,Nc3,Bb4,Qd3,O-O,O-O,b5,Bg5,Be7,Rfe1,h6,Bh4,d6,f4,Nbd7,Kh1,b4,Na4,Nc5,Nxc5,dxc5,Bxf6,Bxf6,e5,Be7,Nf3,Rd8,Qe2,Bb7,c4,a5,Bc2,a4,b3,axb3,axb3,Rxa1,Rxa1,Qd7,Rd1,Qc7,f5,exf5,Bxf5,Rxd1+,Qxd1,Bxf3,Qxf3,Qxe5,Qa8+,Bf8,Qe4,Qa1+,Qb1,Qc3,h3,Bd6,Be4,Qg3,Kg1,Qh2+,Kf2,Qf4+,Bf3,Qd4+,Kf1,Bg3,Qc2,Qa1+,Ke2,Qe1+,Kd3,Be5,Bd5,Bd4,Qd2,Qf1+,Qe2,Qb1+,Qc2,Qe1,Qd2,Qe5,Qe2,Qg3+,Qf3,Qe1', 'Qxf7+,Kh7,Be4+,Qxe4+,Kxe4', 'https://lichess.org/training/uV4HQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UV4V2', 'Rapid', 'anuj_98', 1925, 'Rob42', 1969, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,Bd2,O-O,e3,Re8,a3,Bxc3,Bxc3,a6,Ne5,Ne4,Bd3,Nxc3,bxc3,Nc6,Qh5,g6,Nxg6,fxg6,Bxg6,hxg6,Qxg6+,Kf8,Qh6+,Ke7', 'Qg7+,Kd6,c5#', 'https://lichess.org/training/UV4V2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uV53U', 'Blitz', 'Omid60', 1819, 'kNight_Rider_39', 1924, 'd4,Nf6,c4,d6,Nf3,g6,Nc3,Bg7,Bd2,O-O,Qc1,Nbd7,Bh6,c6,Bxg7,Kxg7,e3,a5,Qc2,c5,Bd3,e6,O-O-O,a4,a3,d5,h4,Nb6,cxd5,cxd4,Nxd4,Nbxd5,h5,Nxh5,Rxh5,gxh5,Bxh7,Rh8,Be4,Nxc3,Qxc3,Qf6,g4,Bd7,Kb1,Rac8,Qd2,hxg4,Rg1,e5,Ne2,Rhd8,Qe1,Bf5,f3,Bxe4+,fxe4,Qc6,Rxg4+,Kf8,Nc3,Qe6,Qg3,Qb3,Rg8+,Ke7,Qg5+,Kd7,Qf5+,Qe6,Rxd8+,Rxd8,Qf3,Rc8,Nd5,Qc6', 'Qxf7+,Kd6,Qe7#', 'https://lichess.org/training/uV53U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uv6JM', 'Rapid', 'FRANLE', 2095, 'chandy_carlsen', 2001, 'c4,e5,Nc3,Nf6,d3,d5,cxd5,Nxd5,Nf3,Nc6,e3,Bb4,Bd2,Nxc3,bxc3,Bd6,Be2,O-O,O-O,Be6,e4,h6,h3,f5,exf5,Bxf5,Nh2,Kh8,Bg4,Qf6,Bxf5,Qxf5,Be3,Ne7,Nf3,Nd5,c4,Nf4,Bxf4,Qxf4,Qe2,Rae8,Qe4,Qxe4,dxe4,Rf4,Rfe1,Ref8,Re2,g5,Rd1,b6,Rd3,g4,hxg4,Rxg4,g3,h5,Nh4,Rf6,Kg2,Rg8,Rf3,Rgf8,Ng6+', 'Rxg6,Rxf8+,Bxf8', 'https://lichess.org/training/Uv6JM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uv8CW', 'Rapid', 'Nick1978', 1833, 'fredysong777', 1806, 'e4,e5,Nc3,d6,Nf3,g6,h3,Bg7,Bc4,Nf6,O-O,O-O,d4,Nbd7,dxe5,dxe5,Bg5,c6,Qe2,a5,a4,Nb6,Bb3,Qe7,Rad1,Be6,Nxe5,Bxb3,Nxg6,fxg6,cxb3,Qe5,f4,Qc5+,Kh1,Rae8,f5,Nh5,Be3,Qb4,Kh2,Bxc3,bxc3,Qxb3,Rb1,Qxc3,Bxb6,Qg3+,Kg1,Nf4,Qc4+,Kg7,Bd4+,Kh6,Rf2,Nxh3+,Kf1,Nxf2,Bxf2,Qh2,Rxb7,Qh1+', 'Bg1,Kg5,Qc1+', 'https://lichess.org/training/Uv8CW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uv8im', 'Blitz', 'hamidsalimiii', 1796, 'Dr_dungenstein', 1898, 'c4,e5,Nc3,Nf6,e4,c6,Nf3,d6,d3,Be7,Be2,Bg4,O-O,O-O,Nd2,Be6,f4,exf4,Rxf4,Nbd7,Rf1,Ne5,Nf3,Neg4,h3,Ne5,b3,Nxf3+,Bxf3,Nd7,Qe1,Bf6,Bd2,Ne5,Be2,Qb6+,Kh1,Ng6,Rc1,Bd4,Qg3,d5,exd5,cxd5,cxd5,Bd7,Ne4,Be5,Qf2,f5,Qxb6,axb6,Ng5,Bf6,Nf3,f4,Bb4,Rfc8,Rfd1,Re8,Bf1,Rxa2,Rc7,Bf5,Rxb7,Bh4,Nxh4,Nxh4,Rxb6,f3,gxf3,Nxf3,Bg2,Nd4,Rb7,Ne2,d6,Rd8,d7,Bxd7,Be7,Bc6,Bxd8', 'Ng3+,Kg1,Rxg2#', 'https://lichess.org/training/Uv8im');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uV8Tn', 'Classical', 'alazit', 1883, 'onemoremate', 1876, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,e3,d5,Nf3,Nc6,a3,Bxc3+,bxc3,O-O,cxd5,exd5,Bb2,c4,Be2,Ne4,O-O,f5,Nd2,Qg5,Nxe4,fxe4,Kh1,Bf5,a4,a5,Ba3,Rf6,Qb2,Rb8,Ra2,Rg6,Rg1,Bh3,Bf1,Ne7', 'Bxe7,Qxe7,gxh3', 'https://lichess.org/training/uV8Tn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uV9J9', 'Rapid', 'OseiasOlegario1', 2165, 'soyed', 2084, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,Bg4,Be2,e5,d5,Nce7,O-O,a6,Nc3,Nf6,h3,Bd7,Bg5,Ng6,Rc1,Be7,Re1,O-O,a3,Rc8,Nh2,Rxc3,bxc3,Nxe4,Bxe7,Qxe7,Bg4,f5,Bf3,Nf6,c4,b5,Bh5,Nf4,Be2,Ne4,Nf3,Ng5,cxb5,Bxb5,Bxb5,axb5,Rc6,e4,Nxg5,Qxg5,g3,Nxh3+,Kg2,Nf4+,Kf1,Nd3,Re3,f4,gxf4,Rxf4,Rc8+,Kf7,Rc7+,Kg6,Rxd3,exd3,Qxd3+,Qf5,Qg3+,Qg5', 'Rxg7+,Kxg7,Qxg5+', 'https://lichess.org/training/uV9J9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uVa9R', 'Rapid', 'TIBISZ', 1712, 'Chukas', 1647, 'd4,d5,c4,dxc4,e4,e5,d5,Nf6,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,Bxc4,Qf4', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/uVa9R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVahs', 'Rapid', 'hmdw', 1761, 'peternc', 1612, 'd4,d5,c4,e6,a3,Nc6,Nf3,dxc4,e3,b5,Nc3,a5,Be2,Ba6,O-O,Nf6,b3,b4,Na4,c3,Bxa6,Rxa6,Qe2,Ra8,Qb5,Qd7,Nc5,Na7,Qb7,Qd8,Ne5,Bxc5,dxc5,O-O,f3,Nd5,e4,Nf6,Bg5,Qd4+,Kh1,Qxe5,axb4,Qxg5,Rxa5,Rfb8,Qxc7,Ne8,Qd7,c2,Rxa7,c1=Q', 'Qxf7+,Kh8,Qf8#', 'https://lichess.org/training/UVahs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVbO3', 'Rapid', 'Gordon15', 1797, 'Ivest', 1800, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Qe7,Bd3,d5,O-O,d4,e5,dxc3,exf6,Qxf6,Re1+,Be7,Qe2,Be6,b3,O-O,Qh5,g6,Qh6,Rfd8,Bf4,Bc5,Kh1,Bxf2', 'Be5,Bd4,Bxf6', 'https://lichess.org/training/UVbO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVbtc', 'Rapid', 'asafyan', 1864, 'AlexanderAR1977', 1901, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Bg4,h3,Bh5,Qc2,e6,e3,Bb4,a3,Ba5,b4,Bc7,cxd5,cxd5,Rc1,O-O,Nxd5,Qxd5,Qxc7,Qxg5,Qxb7,Nbd7,Bb5,Rfb8,Qc6,Qxb5,Qxb5,Rxb5,g4,Bg6,Nf3,Be4,Ke2,e5,Rc3,Nd5,Rb3,Rc8,Ra1,exd4,Nxd4,Rb6,f3,Bc2,Rc1,Bd3+,Rxd3,Rxc1,Nf5,Rb5,Rxd5,Rxd5,Ne7+,Kf8,Nxd5,Ra1,Kd3,Rxa3+,Kd4,Ra4,Kc3,Ne5,f4,Nc6,Kb3,Ra6,b5,Na5+,Kb4,Rd6,e4,Nb7,h4,a6,b6,a5+,Kb5,f6,f5,Kf7,g5,fxg5,hxg5,g6,Nf6,gxf5,exf5,Rxf6,gxf6,Kxf6,Kc6,Nd8+,Kc7,Ke7', 'f6+,Ke8,f7+,Nxf7,b7,Ke7,b8=Q', 'https://lichess.org/training/UVbtc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uvcvc', 'Blitz', 'KeepItSemple', 1620, 'Renat1960', 1637, 'e4,e5,Nf3,Qf6,Be2,Bc5,O-O,d6,c3,Bb6,a4,a5,d4,exd4,cxd4,Qd8,Nc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Bg4,e5,dxe5,dxe5,Qxd1,Raxd1,Nfd7,Nd4,Nc5,Bxg4,h5,Bf5,h4,e6,hxg3,exf7+,Kxf7,fxg3,Nb3,Ne2,Nc6,Bc2+,Kg7,Bxb3,Nxd4,Nxd4,Rad8,Rf7+,Kg6,Rdf1,Bxd4+,Kh1', 'Rxh2+,Kxh2,Rh8+,Rh7,Rxh7#', 'https://lichess.org/training/Uvcvc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uVeOJ', 'Blitz', 'MrKooshaJ', 2459, 'CM arvids_andrejevs', 2375, 'Nf3,d5,b3,Nf6,Bb2,e6,e3,Bd6,Be2,c5,O-O,Nc6,c4,O-O,cxd5,Nxd5,d4,cxd4,Nxd4,Nxd4,Bxd4,b6,Bf3,Bb7,Nd2,Rc8,Nc4,Be7,Qe2,Ba6,Rac1,Ba3,Rc2,Nb4,Rd2,Qc7,Be5', 'Bxc4,Bxc7,Bxe2,Bxe2,Rxc7', 'https://lichess.org/training/uVeOJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uvg5U', 'Rapid', 'ainkie', 1755, 'maforma', 1743, 'd4,d5,c4,Bf5,cxd5,Qxd5,Nc3,Qd8,e4,Bg6,Nf3,e6,a3,Nf6,e5,Nd5,Bg5,Qd7,Qb3,b6,Nxd5,exd5,Bb5,c6,Bd3,Be7,Bxg6,fxg6,O-O,O-O,Bxe7,Qxe7,Qc3,Rf4,Rfe1,g5,Qd2,Na6,h3,Raf8,Qd3,Nc7,a4,Qe6,Nxg5,Qh6,Nf3,Ne6,Rac1,Rxf3,gxf3,Qxh3,Qf1,Qxf3,Re3,Qg4+,Rg3,Qxd4,Rxc6,Nf4,e6,Re8,Re3,Qxa4,Rd6,Ng6,Rxd5,Qg4+,Qg2', 'Qxg2+,Kxg2,Nf4+,Kf1,Nxd5', 'https://lichess.org/training/Uvg5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVh7q', 'Classical', 'rinatUs', 1688, 'TanguyF', 1763, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,a6,a3,d6,d4,cxd4,Nxd4,Qc7,Nxc6,bxc6,b4,e5,Qf3,Nf6,h3,Be7,Be3,O-O,O-O,Bb7,Bd3,Rad8,Na4,Rc8,c4,d5,Nb6,Rcd8,c5,d4,Bg5,h6,Bh4,Rfe8,Qe2,Nd7,Bxe7,Rxe7,Nxd7,Rexd7,Bxa6', 'd3,Bxd3,Rxd3', 'https://lichess.org/training/UVh7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uvhOT', 'Classical', 'konstgeor', 1603, 'Korito53', 1601, 'd4,e5,dxe5,Nc6,Nf3,d5,exd6,Bxd6,Bd2,Bb4,c3,Bc5,e4,Nf6,Qc2,O-O,h4,Ng4,Be3,Nxe3,fxe3,Bxe3,h5,Nb4,cxb4,Bg4,Qc3,Bxf3,gxf3,Qd4,Bc4,Rfd8,Ke2,b5,Bxb5,Rab8,a4,a6,Bxa6,Rxb4,Qxe3', 'Rxb2+,Nd2,Rxd2+,Qxd2,Qxd2+', 'https://lichess.org/training/uvhOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVhYg', 'Rapid', 'my5yodaughter', 2037, 'Dieguin', 2016, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d6,Bd3,c5,c3,a6,Qc2,b5,Nbd2,c4,Be2,O-O,O-O,Bb7,e4,Nbd7,e5,dxe5,Nxe5,Nxe5,Bxe5,Qd7,Bf3,Nd5,Bxg7,Kxg7,Ne4,Nf4', 'Nc5,Qf5,Qxf5', 'https://lichess.org/training/UVhYg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVii1', 'Rapid', 'OJIM21', 1881, 'mostafakhalil', 1847, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,Bc4,Nf6,Bg5,Be7,Bxf6,Bxf6,Nxd6+,Ke7,Nc3', 'Qxd6,Qxd6+,Kxd6', 'https://lichess.org/training/UVii1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uvIjR', 'Rapid', 'apollo017', 1989, 'mouttoren', 1811, 'e4,f5,exf5,Kf7,Qh5+,g6,fxg6+,Kg7,gxh7,Rxh7,Qg4+,Kh8,d4,d5,Qg3,Nf6,Bd3,Ne4,Qe5+,Bg7,Qf4,e5,dxe5,Nc6,Bxe4,Bxe5,Qe3,dxe4,Qxe4,Rh4,Qd3,Qe7,Ne2,Bg4,f3,Rd8,Qe3,Nb4,Na3,Nd5,Qg5,Bf6,Qd2,Nc3,Qe3,Rd1+,Kf2,Qxe3+,Bxe3,Rxa1,Rxa1,Nxe2,fxg4,Bxb2,Rb1,Bxa3,Kxe2,Rxh2,Kf3,b6,Bf4,Rh7,Re1,Re7,Rxe7,Bxe7,Bxc7,Kg7,Be5+,Kg6,c3,Bf6,Bd4,b5,a3,a6,Ke4,Be7,Kd5,Bxa3,Ke4,Kg5,Kf3,b4,cxb4,Bxb4,Be3+,Kg6,Bd4,a5,g3,Ba3,Kf4,Bc1+,Kf3,a4,Ba1', 'a3,Ke4,Bb2,Kd3,Bxa1', 'https://lichess.org/training/uvIjR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uviVd', 'Rapid', 'Messimontana', 1618, 'leo174174', 1616, 'e4,e5,Nc3,a6,Nf3,d6,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,g6,O-O,Bg7,Ne2,Ne7,c3,Qd7,Bd2,c5,b3,Bb7,Rc1,O-O,Ng3,d5,exd5,Qxd5', 'Be4,Qd6,Bxb7', 'https://lichess.org/training/uviVd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVj8U', 'Blitz', 'bitsignal', 1866, 'Karpi', 1912, 'e4,e5,f4,d5,exd5,e4,c4,Nf6,g3,Bc5,Ne2,Bg4,Qa4+,Nbd7,b4,Be7,Nd4,Bf3,Nxf3,exf3,Bh3,O-O,O-O,Nb6,Qb3,c6,d6,Qxd6,Rxf3,Qd4+,Re3,Qxa1,Rxe7,Nxc4,d3,Qd4+,Kh1,Nb6,Bb2,Qf2,Nc3,Rae8,Nd1,Qf3+,Bg2,Qd5,Bxd5,Rxe7,Bxf7+,Rexf7,h3,Nfd5,Nc3,Re7,Nxd5,Nxd5,Kg2,Rfe8,Kf3,Re3+,Kg4,g6,b5,h5+,Kg5,R8e6,Kh6,Ne7,bxc6', 'Nf5+,Kg5,Rxg3#', 'https://lichess.org/training/UVj8U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UvJyd', 'Rapid', 'Ehrfurcht', 1815, 'bonzy69', 1614, 'e4,c5,Nf3,Nc6,g3,Nf6,Nc3,d6,Bg2,g6,O-O,Bg7,b3,O-O,d3,Bg4,h3,Bd7,Bb2,a6,Rb1,b5,Nd5,e6,Ne3,Rc8,c4,bxc4,Nxc4,d5,exd5,exd5,Nce5,Bf5,Rc1,Nb4,d4,cxd4,Rxc8,Qxc8,Bxd4,Bxh3,Bxh3,Qxh3,Qd2,a5,a3,Na6,Qxa5,Ra8,Rc1,h5,Qb5,Ng4,Ng5', 'Qh2+,Kf1,Qh1+,Ke2,Qxc1', 'https://lichess.org/training/UvJyd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UvLjV', 'Blitz', 'blackst0ne', 1605, 'plaillo', 1564, 'e4,e6,Nc3,d5,exd5,exd5,Nf3,Bg4,d4,Nc6,Be3,Nge7,Bb5,Nf5,Bxc6+,bxc6,Qe2,Bb4,a3,Bxc3+,bxc3,O-O,O-O,Re8,h3,Bxf3,Qxf3,Nxe3,fxe3,Qe7,Rae1,Qxa3,Qxf7+,Kh8,Rf4,Rg8,Rh4,Qxc3', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/UvLjV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uVnT9', 'Rapid', 'daniil1533', 2025, 'Moscowcheeter', 1970, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,Nxd4,Nf6,Nc3,Nxd4,Qxd4,O-O,O-O,d6,Be3,Be6,f4,Bxc4,Qxc4,Ng4,Qe2,Nxe3,Qxe3,Bf6,Nd5,Re8,Rae1,Bxb2,f5,f6,Qb3,Bd4+,Kh1,b6,Nxb6+,Kh8,Nxa8,Qxa8,Rb1,Qxe4,Qd3,Qe5,h3,Qc5,Rfe1,Be5,Rb5,Qc6,Reb1,h6,Rb8,Rxb8,Rxb8+,Kh7,Qe2,Qc3,Qd1,c5,Rb3,Qc4,Qd3,Qf4,Kg1,Qh2+,Kf1,Qh1+,Kf2,Bd4+,Kf3,Qg1,Qe2,h5,Rd3,Be5,Rd1,Qh2,Ke3', 'Qf4+,Kd3,c4#', 'https://lichess.org/training/uVnT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UvoLY', 'Rapid', 'hammambniessa', 1754, 'dezso40', 1865, 'e4,c6,Nf3,d6,Bc4,e6,O-O,Ne7,d4,Ng6,Re1,Be7,Nc3,O-O,d5,e5,Ne2,Bg4,Ng3,Bxf3,Qxf3,b5,Bd3,a6,Nf5,Bg5,Bxg5,Qxg5,g3,Qd8,h4,Ne7,Qg4,Nxf5,exf5,cxd5,f6,g6,Qg5,e4,Bxe4,dxe4,Rxe4,Nd7,Rf4,Nc5,Qh6,Ne6,Re1,Qd7,h5,Kh8,hxg6,fxg6,Rxe6,Rf7,Re7,Rxe7,fxe7,Qxe7,b3,Re8,c4,b4,a4,g5,Qf6+,Qxf6,Rxf6,Re1+,Kg2,Rd1,Kh3,Kg7,Re6,h5,Re7+,Kf6,Ra7,g4+,Kg2,Rb1,Rxa6,Ke5,Ra5+,Ke6,c5,d5,Ra6+,Kd7,c6+,Kc7,a5,Rxb3,Rb6,d4,Rb7+,Kxc6,a6,d3,Rb8,Kc7', 'a7,Ra3,a8=Q,Rxa8,Rxa8', 'https://lichess.org/training/UvoLY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uVorY', 'Rapid', 'jeffersonlucena', 1775, 'ANDREYKOSTYUKOVV', 1930, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,O-O,O-O,a3,a5,d3,d6,h3,Nd4,Nxd4,Bxd4,Ne2,Be6,Nxd4,exd4,Bxe6,fxe6,Bg5,h6,Bh4,Qd7,b4,axb4,axb4,g5,Bg3,e5,Qd2,Nh5,Bh2,Nf4,Bxf4,exf4,f3,c5,c3,dxc3,Qxc3,Qg7,Qxg7+,Kxg7,bxc5,dxc5,Rfb1,Rxa1,Rxa1,Rd8,Ra3,Kf6,Rb3,Rd7,Kf1,Ke5,Ke2,Kd4,Rb6,Kc3,e5,Kd4', 'Rd6+,Kxe5,Rxd7', 'https://lichess.org/training/uVorY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVOvF', 'Blitz', 'glimmeffros', 1875, 'metalshredder', 1932, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Bd2,O-O,Nf3,Bb7,Bd3,c5,O-O,Qe7,a3,Bxc3,Bxc3,d6,h3,Nbd7,Nd2,Rac8,Qc2,Rfd8,Rac1,d5,Rfe1,cxd4,Bxd4,Ba6,b3,e5,Ba1,dxc4,Nxc4,b5,Qe2,bxc4,bxc4,e4,Bb1,Ne5,Qa2,Bxc4,Qb2,Nd3,Bxd3,exd3,Red1,Ne8,Rc3,Qe4,Qd2,Ba6,Rdc1,Nd6,f3,Qe6,Qb2,Qxe3+,Kh2,Qf4+,Kg1,Rxc3,Qxc3,Ne8,Rd1,Qe3+,Kh2,Qf4+,Kg1,Qd6,Re1,Qd5', 'Rxe8+,Rxe8,Qxg7#', 'https://lichess.org/training/UVOvF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVP5C', 'Rapid', 'unholymountain', 1899, 'Parrity', 1743, 'e4,e5,Nf3,d6,Bc4,h6,d3,Nf6,h3,c6,Nc3,b5,Bb3,a5,a3,Na6,d4,b4,axb4,axb4,Ne2,Nxe4,Qd3,d5,Nxe5,Bb7,Nxc6,Bxc6,Rxa6,Rxa6,Qxa6,Qc7,Bf4,Bd6,Bxd6,Nxd6,O-O,O-O,Nf4,Ne4,Bxd5,Bxd5,Nxd5,Qxc2,Nxb4,Qxb2,Nd5,Qxd4,Qa2,Kh7,Ne3,f5,Rd1,Qe5,Rd5,Qc3,Nxf5,Qe1+,Kh2,Nxf2,Ng3,Qe6,Qc2+,g6,Rd2,Qf6,Kg1,Qa1+,Nf1,Ne4,Rd7+,Kg8,Qc4+,Kh8,Qxe4,Rxf1+,Kh2,Qf6,Qe8+,Qf8,Qxg6', 'Qf4+,Qg3,Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/UVP5C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uVPEf', 'Rapid', 'apoluonas', 1770, 'Gauder', 1872, 'e4,e5,Nf3,Bc5,Bc4,d6,h3,Be6,Be2,Ne7,c3,O-O,O-O,f5,exf5,Nxf5,a4,a5,Na3,c6,Nc4,d5,Ncxe5,Nd7,Nxd7,Bxd7,Ne5,Ng3,d4,Nxe2+,Qxe2,Ba7,Qd3,Bf5,Qg3,Qf6,Bg5,Qe6,Rfe1,Qd6,Bf4,Qf6,Bg5,Qe6,Kh1,Rae8,f3,Bb8,Qf2,Bxe5,Rxe5,Qg6,Bf4,Bxh3,Rg5,Qf6,Bd2,Bc8,Kg1,Re6,Rg3,Rfe8,Re1,Qf5,Rg5', 'Rxe1+,Bxe1,Qxg5', 'https://lichess.org/training/uVPEf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uvrp5', 'Rapid', 'Smyrnoff', 1628, 'Xrgq9', 1723, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Bg5,h6,Bh4,d6,e4,Nbd7,Nf3,b6,e5,dxe5,dxe5,g5,Nxg5,Nxe5,Ne4', 'Qxd1+,Rxd1,Nxe4', 'https://lichess.org/training/Uvrp5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVS7b', 'Rapid', 'Timur007', 2011, 'avelpic', 1959, 'd4,d5,Bf4,Bf5,e3,c6,Bd3,Be4,f3,Bg6,Ne2,e6,c3,h5,Bxg6,fxg6,Qb3,b5,a4,g5,Be5,Nd7,axb5,Nxe5,dxe5,Qb6,Ra6,Qxe3,bxc6,Bc5,Rf1,d4,Kd1,d3,Nc1,d2,Ne2,Ne7,c7,Qxe5,Qb7,O-O,Qb3,Nd5,Kxd2,Be3+,Ke1,Nf4,g3,Ng2+,Kd1,Rad8+,Nd4,Bxd4,cxd4,Rxd4+,Nd2,Ne3+,Kc1,Rxd2,Rxe6,Qc5+,Kxd2,Nxf1+,Ke2,Nxg3+,hxg3,Kh8,Qe3,Qxc7,Qxg5', 'Qc4+,Kf2,Qxe6', 'https://lichess.org/training/UVS7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVTov', 'Blitz', 'morty0000', 2385, 'FM AndrCherr', 2420, 'e4,c6,d4,d5,f3,e5,dxe5,Qb6,Nc3,Bc5,Na4,Qa5+,c3,Bxg1,Rxg1,dxe4,f4,Ne7,b4,Qc7,Nc5,Nd5,Nxe4,O-O,Bc4,Bf5,Ng3,Be6,Qb3,a5,Bd2,a4,Qc2,Nxb4', 'cxb4,Bxc4,Qxc4', 'https://lichess.org/training/UVTov');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uVU0H', 'Rapid', 'pnvin', 1647, 'Debneil', 1767, 'e4,d5,exd5,Nf6,Bb5+,Nbd7,Qf3,a6,Ba4,b5,Bb3,Ne5,Qg3,Qd6,d4,Nc4,Bf4,Qxd5,Na3,Qxd4,Nxc4,bxc4,Ba4+,Bd7,Rd1,Qxb2,Bxd7+,Nxd7,Bxc7,Qxc2,Ne2,e6,O-O,Bc5,Nf4,Nf6,Rc1,Qxa2', 'Qxg7,Rg8,Qxf6', 'https://lichess.org/training/uVU0H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVv1V', 'Blitz', 'Bruceleehon', 2074, 'chessforce', 2293, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bd6,g4,h6,d3,Ne7,Rg1,Ng6,h4,c6,Bc4,Bc7,h5,Nf4,Bxf4,exf4,e5,d5,exf6,dxc4,fxg7,Rg8,Qe2+,Qe7,Qxe7+,Kxe7,dxc4,Rxg7,O-O-O,Rxg4,Rge1+,Kf8,Nd4,Rg2,f3,Bd7,Ne4,Re8,Nb3,Bf5,Nbc5,b6,Nd7+,Kg7,Ndf6,Re6,Rg1,Rxg1,Rxg1+,Kf8', 'Rg8+,Ke7,Re8#', 'https://lichess.org/training/UVv1V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uvW9T', 'Rapid', 'scareyist', 1943, 'Horsepower2371', 1918, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,Nf3,Be7,e3,h6,Bh4,O-O,Be2,c6,O-O,Nh7,Bg3,f5,c5,Nhf6,Ne5,Nxe5,Bxe5,Ne4,Nxe4,fxe4,Bh5,Bf6,Bd6,Be7,Bg3,Bd7,a3,Be8,Bg4,Qd7,b4,a6,a4,Qc8,a5,Bd7,h4,Qd8,h5,Qc8,Bh3,Bf6,Bd6,Rf7,Qg4', 'e5,Qxd7,Rxd7', 'https://lichess.org/training/uvW9T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UvWKC', 'Rapid', 'sanjeevps', 1664, 'breuss01', 1641, 'e4,e5,Nf3,Nc6,Bc4,Nf6,c3,a6,d4,exd4,Nxd4,Nxd4,Qxd4,b5,Bb3,c5,Qe5+,Be7,Bg5,O-O,O-O,h6,Bh4,Re8,g3,Qb6,Qf4,c4,Bc2,Bd6,Qf3,Bb7,Nd2,Be5,Rae1,g5,Kh1,gxh4,gxh4,Kh7,Qf5+,Kh8,Nf3,Nh7', 'Nxe5,Rxe5,Qxe5+', 'https://lichess.org/training/UvWKC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVx7B', 'Rapid', 'Vish_1970', 1972, 'Vkiller', 2019, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,Nc3,Qb6,Be3,Nc6,Nxc6,Bxe3,fxe3,Qxe3+,Qe2,Qxe2+,Nxe2,dxc6,O-O-O,Nf6,Nc3,O-O,h3,b6,g4,Bb7,Rg1,c5,e5,Nd5,Nxd5,Bxd5,Kb1,Bf3,Re1,Rad8,Bd3,Rd4,b3,Rfd8,g5,Bh5,Rh1,Bg6,Bxg6,hxg6,h4,b5,Kb2,Rf4,h5,gxh5,Rxh5,g6,Rh6,Rf5,Reh1,Kf8,Rh8+,Ke7,Rxd8,Kxd8,Rh8+,Kc7,Rh7,b4,a3,a5,a4,Kc6,Rg7,Kd5,Rg8,Kxe5,Ra8,Kf4,Rxa5,Kxg5,Rb5,Rd5,a5,e5,a6,f5', 'a7,Rd8,Rb8', 'https://lichess.org/training/UVx7B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UVy3Y', 'Rapid', 'AyazZakiryanov', 1674, 'RomanOsipov', 1662, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bg5,e6,Nf3,Be7,e3,O-O,Be2,h6,Bh4,Nc6,O-O,Ne4,Bxe7,Qxe7,Nd2,Nxd2,Qxd2,f6,Bf3,Rd8,g3,Kh8,Bg2,e5,a3,exd4,exd4,Be6,Rfe1,Qf7,Rad1,Rd7,Ne2,Rad8,Nf4,Bf5,h3,Bg6,Kh2,Re8,Bf3,Rxe1,Rxe1,Be4,Bg2,Bxg2,Kxg2,Rd6,Qd3,f5,b4,a6,Re3,b5,Qc3,Qf6,Rd3,g5,Ne2,f4,Rf3,Re6,Qd2,Qe7,Nc3,fxg3,Rxg3,Qd6,Re3,Rxe3,Qxe3,Kg7,f3,Qf4,Qxf4,gxf4,Nxd5,Nxd4,Nc7,Nc2,Nxa6,Nxa3,Nc7,Kg6,h4,Nc2,Nxb5,Nxb4,Nd4,Nd3,Kh3,Kh5,Nf5,Kg6,Nd4,h5,Kg2,Ne1+,Kf2,Nd3+,Ke2,Ne5,Ne6,Kf5,Nd4+,Kf6,Kf2,Nd3+,Ke2,Ne5,Kf2,Ng6,Ke2,Nxh4,Kd3,Ng6,Ke4,Kg5,Ne2,h4,Ng1,Ne7,Nh3+,Kh6,Nxf4,Ng6,Nh3,Kh5,Kf5,Ne7+,Kf4,Nd5+,Ke4,Nf6+,Kf5,Nd5,f4,Ne3+,Ke6', 'Kg4,f5,Nxf5', 'https://lichess.org/training/UVy3Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UvYhI', 'Bullet', 'Hamaham', 1791, 'SkyIsland', 1792, 'd4,e6,c4,f5,g3,Nf6,Bg2,Be7,b3,O-O,Bb2,a5,Nh3,d6,Nf4,Nc6,Nd2,e5,dxe5,dxe5,Bxc6,bxc6,Bxe5,Bd6,Bxd6,Qxd6,O-O,c5,Nd3,Bb7,Nf4,Qc6,Nf3,g5,Nd5,g4,Ne5,Qe6,Nd3,Nxd5,cxd5,Qxd5,Nf4', 'Qh1#', 'https://lichess.org/training/UvYhI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uVYSO', 'Classical', 'bilbo07', 1852, 'Mergen7', 1844, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,c4,c5,cxd5,exd5,Bb5+,Nc6,dxc5,Bxc5,Nc3,Ne7,Bg5,O-O,Bxc6,bxc6,Nd4,Bxd4,Qxd4,h6,Bh4,Qc7,b4,Ng6,Bg3,Rfe8,O-O,Nxe5,Rfe1,f6,Rac1,Qb6,Bxe5,fxe5,Qc5,Qxc5,bxc5,d4,Ne2,d3,Rc3,dxe2,Rxe2,Rad8,h3,Rd5,g4,Bd3,Re3,Bb5,f4,a5,Kf2,Kf7,f5,e4,Kg3,Ree5,Kf4,Bd3,h4,Rxc5,Rb3,Rb5,Rc3,Rec5,Rb3,Rxb3,axb3,Rb5,Re1,Rxb3,Rc1,Rb6,Rc5,a4,Ra5,Bc2,Ra7+,Ke8,Rxg7,a3,Ra7,Rb3,f6,Rf3+,Ke5,e3,Rxa3,e2,Ra1,Rf1,Ra8+,Kf7,Ra7+,Kg6', 'Rg7#', 'https://lichess.org/training/uVYSO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UvyW3', 'Classical', 'TYDYKOV5566', 2078, 'Olegulk', 1668, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Qd3,Nf6,O-O,a6,Bxc6,Bxc6,Nc3,g6,Nd5,Bg7,Re1,e6,Nxf6+,Bxf6,Bf4,d5,e5,Be7,Bh6,Qb6,Rab1,Bb5,Qd2,Rc8,Bg7,Rg8,Bf6,Rc7,Bxe7,Kxe7,b3,Rgc8,c4,dxc4,Qf4,c3,Rec1,Bd3,Ra1,Rd7', 'Qf6+,Kf8,Qh8+', 'https://lichess.org/training/UvyW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uVzcN', 'Rapid', 'gselzbaer', 1847, 'hosamsharoof22_k', 1870, 'e4,e5,Nf3,Nc6,Nc3,Nf6,a3,d6,d4,Bg4,Be2,Bxf3,Bxf3,Nxd4,Be3,Nxf3+,Qxf3,c6,O-O-O,Be7,g4,g6,h4,Qd7,Rhg1,O-O-O,Bxa7,b5,g5,Nh5,Qe3,Qb7,Bb6,Rd7,Na2,Nf4,Ba5,h6,gxh6,Rxh6,Rg4,Bxh4,Nb4,Be7,Rxf4,Bg5,Kb1,Bxf4,Qc3,c5,Nd5,Rh4,Nb6+,Kb8,Nxd7+,Qxd7,Qd3,Rh2,Qxd6+,Qxd6,Rxd6,Rxf2,Rb6+,Ka7,Rxb5,Ka6,Rxc5,Re2,b4,Rxe4,Rc6+,Kb5,Rb6+,Ka4,Kb2,Re3,Rb7,Rxa3,Ra7,Rf3,c3,Kb5,Rxf7', 'Bc1+,Kb3,Rxf7', 'https://lichess.org/training/uVzcN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uVzJZ', 'Rapid', 'sein70', 1893, 'robancan', 1807, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,c3,e6,Bf4,Bd6,Bxd6,Qxd6,Be2,Nf6,O-O,h6,Nbd2,O-O,c4,Nc6,c5,Qf4,Nb3,Ng4,g3,Qc7,Nh4,Nf6,Nxf5,exf5,f4,Ne4,Bf3,Rae8,Rc1,Qd8,Bxe4,fxe4,f5,Qf6,Qe2,Nxd4,Nxd4,Qxd4+,Kh1,e3,Rcd1,Qe4+,Kg1,d4,Rd3,Rd8,Rf4,Qe5,f6,Qxc5,fxg7,Rfe8,Rf6,Re5,Rxh6,Rf5', 'Rh8+,Kxg7,Rxd8', 'https://lichess.org/training/uVzJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UW0Xb', 'Rapid', 'CM ClassPlayer04', 2474, 'IM Knights4base', 2509, 'Nf3,g6,e4,Bg7,d4,c6,h3,d5,e5,Nh6,c4,O-O,Nc3,f6,Be2,Nf7,Bf4,fxe5,dxe5,e6,O-O,b6,Bg3,Na6,Nd4,Qe8,cxd5,exd5,e6,Nd8,Re1,Bxd4,Qxd4,Nxe6,Qh4,Nac5,Bg4,g5,Qh6,Qf7,b4,d4,bxc5,Nxc5,Qxg5+,Qg6,Qxg6+,hxg6,Ne2,Bxg4,hxg4,d3,Nf4,d2,Red1,Rad8,Nxg6,Rfe8,f3,Na4,Bf4,Re2,Kf1,Nc3,Be5,Nxd1,Kxe2,Nf2,Kxf2,d1=Q,Rxd1,Rxd1,Ne7+,Kf7,Nxc6,Rd2+,Kg3,Rxa2,g5,a5,f4,Rc2,Nd4,Rc3+,Kg4,a4,f5,a3,g6+,Kg8,f6,Rc4,f7+,Kf8,Kf5,Rxd4,Bxd4,a2,Bxb6,a1=Q', 'Bc5+,Kg7,f8=Q#', 'https://lichess.org/training/UW0Xb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uw1UG', 'Blitz', 'SHolms221B', 2223, 'zyablik2005', 1857, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,h6,Bxe7,Qxe7,Qg4,O-O,O-O-O,c5,f4,a6,Nge2,Nc6,dxc5,Nxc5,Nd4,Nxd4,Rxd4,b6,h5,Bb7,Be2,b5,Kb1,Rac8,Rh3,Rfd8,Rg3,Qf8,f5,exf5,Qxf5,Ne6,Rdg4,d4,Bd3,Qc5,Qxe6,fxe6', 'Rxg7+,Kf8,Rg8+,Ke7,R3g7#', 'https://lichess.org/training/uw1UG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UW1wC', 'Rapid', 'sanjeethajarnis', 1701, 'roberto-kasparov', 1698, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bb5+,c6,Bd3,h6,O-O,Be7,Bf4,O-O,Re1,Bg4,h3,Bh5,Be2,Bd6,Bxd6,Qxd6,Ne5,Bxe2,Rxe2,Nbd7,c3,Nxe5', 'dxe5,Qe7,exf6', 'https://lichess.org/training/UW1wC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UW323', 'Rapid', 'jardinho', 1821, 'jesrom', 1766, 'd4,d5,c4,e6,Nf3,Nf6,e3,c6,Bd2,Nbd7,cxd5,exd5,Nc3,g6,Bd3,Bg7,O-O,O-O,Rc1,Nb6,Na4,Be6,Nc5,Qc7,h3,Nbd7,Nxe6,fxe6,Bb4,Rfe8,Re1,a5,Bc5,e5,a4,e4,Bxe4,dxe4,Nd2,Nxc5,Rxc5,b6,Rc2,Nd5,Rc4,Nb4,Qb3,Kh8,Rec1,Qf7', 'Rxb4,Qxb3,Rxb3', 'https://lichess.org/training/UW323');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uW3SS', 'Classical', 'darknight82', 1800, 'Terminator123', 1753, 'd4,d5,Nf3,Bf5,Bf4,Nf6,h3,e6,e3,Bd6,Ne5,Nfd7,Bd3,g6,Bxf5,gxf5,Nd2,f6', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/uW3SS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uW5Oy', 'Classical', 'Backwards_Knight', 1909, 'ANIRBAS', 1883, 'Nf3,d5,g3,c5,Bg2,Nc6,d4,e6,O-O,Nf6,c4,Be7,Nc3,O-O,dxc5,Bxc5,cxd5,exd5,Bg5,Be6,e3,d4,exd4,Nxd4,Nxd4,Qxd4,Bxf6,Qxf6,Qh5,Rac8,Ne4,Qe7,Ng5,h6,Nxe6,fxe6,Rae1,Bb4,Re4,Rc2,a3,Bc5,Re2,Rxe2,Qxe2,Rd8,b4,Bb6,Re1,Rf8,Rf1,e5,Bd5+,Kh8,Kg2,Rd8,Be4,Rd4,f3,Qd7,Rf2,Rd1,Rf1', 'Rd2,Qxd2,Qxd2+', 'https://lichess.org/training/uW5Oy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uw6r4', 'Blitz', 'orstaboc', 1533, 'boti', 1537, 'b3,e5,Bb2,Nc6,Nf3,d6,e3,Nf6,Bb5,Bd7,O-O,Be7,d4,e4,d5,Nb4,Bxd7+,Qxd7,Nd4,Nbxd5,Nd2,c5,c4,cxd4,cxd5,d3,f3,exf3,Nxf3,Nxd5,Qxd3,Nf6,Rad1,O-O,Ng5,Rfd8,Bxf6,Bxf6,Qxh7+,Kf8,Qh5,Bxg5,Qxg5,Qe6,Rf2,Re8,Rdf1,f6,Qh5,Qxe3,Kh1,Rac8,Rxf6+,gxf6,Rxf6+,Ke7', 'Qf7+,Kd8,Rxd6#', 'https://lichess.org/training/Uw6r4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uw8RF', 'Classical', 'tigger22', 1698, 'kruzkih', 1636, 'e4,e5,f4,f5,d3,Bc5,Nf3,d6,Ng5,Qf6,fxe5,dxe5,Nf3,Nc6,c3,Bd7,Be2,O-O-O,Bg5,Qg6,Bxd8,Qxg2,Rg1,Qf2+,Kd2,fxe4,Rf1,Be3+,Kc2,exd3+,Kxd3,e4+,Kc2,Qg2,Nd4,Bxd4,cxd4,Nf6,Bxf6,gxf6,Nc3,f5,Rc1,Rd8,Kb1,Be6,Rg1,Qf2,Qf1,Qxd4,Rd1,Qh8,Rxd8+,Qxd8,Qh3,Nb4,Qxh7,b6,Qg6,Qd6,Rd1', 'Bxa2+,Nxa2,Qxg6', 'https://lichess.org/training/Uw8RF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWby6', 'Rapid', 'luka2210', 1674, 'pawnchaser', 1682, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bd6,Bg5,c6,Be2,Be6,O-O,h6,Bh4,Nbd7,h3,Qc7,a3,g5,Bg3,Bxg3,fxg3,Qxg3,Ne5,Nxe5,dxe5,Qxe5,Re1,O-O-O,Bg4,Qd6,Bxe6+,fxe6,Qd4,Nd7,Qxa7,Rde8,b4,c5,Nb5,Qb8,Qxb8+,Kxb8,Nd6,Re7,b5,Kc7,Nf5,Rf7,Ng3,Re8,a4,b6,a5,Kd6,a6,Ra8,Re2,Re7,Rd1,Ne5,Rde1,Nc4', 'Nf5+,Kd7,Nxe7', 'https://lichess.org/training/uWby6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UwCRN', 'Rapid', 'Renansousa98', 1690, 'Hari-Dewanto', 1610, 'e4,e5,Nf3,Nf6,g3,Nc6,d3,h6,Bg2,g5,O-O,g4,Nh4,h5,Nc3,Nd4,Nd5,Nxd5,exd5,d6,c3,Nf5,Nxf5,Bxf5,Be3,Qe7,Qd2,O-O-O,Bg5,Qd7,Bxd8,Qxd8,Qe3,h4,Qxa7,Kd7,Qxb7,hxg3,fxg3,Ke7,Rxf5,Bh6,d4,e4,Raf1,Be3+,Kh1', 'Rxh2+,Kxh2,Qh8+,Rh5,Qxh5+,Bh3,Qxh3#', 'https://lichess.org/training/UwCRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uwe72', 'Rapid', 'adeep99', 1913, 'HasidicWilliamsburg', 2067, 'e4,c5,f4,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,O-O,a6,a4,Qc7,f5,Nxd4,Bxd4,Nd7,Bxg7,Kxg7,Qd4+,Kg8,Nd5,Qd8,fxg6,hxg6,Bc4,Nc5,Nf4', 'e5,Qe3,exf4', 'https://lichess.org/training/uwe72');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uwet2', 'Rapid', 'lourivalsilva', 1956, 'amonymous', 1975, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,f4,Qa5+,c3,Qa6,Qe3,c5,Nf3,cxd4,Nxd4,Bc5,Nd2,Nc6,N2b3,Bb6,a4,Nge7,a5,Nxd4,cxd4,Bc7,Nc5,Nf5', 'Nxa6,Nxe3,Nxc7+', 'https://lichess.org/training/Uwet2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWfPy', 'Rapid', 'Dispetcher195508', 1928, 'LVG27', 2109, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nc3,Nf6,Bf4,Be7,Qd2,O-O,O-O-O,Bd7,Be2,a6,Rhg1,b5,Nxc6,Bxc6,Bf3,Bb7,g4,Nd7,g5,Ne5,Bxe5,dxe5,Qe3,Bd6,h4,Qe7,h5,Rad8,g6,h6,Nd5,Bxd5,exd5,f5,Be2,e4,f3,Bc5,Qb3,Kh8,Rg2,Qh4,fxe4,Qxe4,Bf3', 'Be3+,Kb1,Qxf3', 'https://lichess.org/training/uWfPy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWGAe', 'Rapid', 'sliman100', 1677, 'Kacp040712', 1680, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,a4,a6,Bxd7+,Qxd7,O-O,Nf6,Re1+,Be7,d3,O-O,Nc3,Nc6,Bg5,Rfe8,Ne5,Nxe5,Rxe5,d4,Bxf6,Bxf6,Rxe8+,Rxe8,Ne4,Qf5', 'Nd6,Qd7,Nxe8', 'https://lichess.org/training/uWGAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWgdW', 'Classical', 'SamiSalah2002', 1708, 'Aldosterone', 1689, 'Nc3,e5,Nf3,Nc6,d4,d5,Nxe5,Nxe5,dxe5,Bb4,Bd2,d4,Ne4,a5,a3,Bxd2+,Qxd2,Qd5,Qf4,Ne7,Rd1,Ng6,Qf3,Nxe5', 'Nf6+,gxf6,Qxd5', 'https://lichess.org/training/UWgdW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UwgFJ', 'Rapid', 'MentallyYours', 1805, 'bogdankukic', 1880, 'd4,d5,c4,dxc4,e3,e6,Bxc4,c5,Nf3,cxd4,Qxd4,Nc6,Qxd8+,Nxd8,O-O,Nc6,Nc3,a6,a3,Bc5,b4,Be7,Bb2,Nf6,Rfd1,O-O,Nd4,Nxd4,Rxd4,b5,Be2,Bb7,Bf3,Bxf3,gxf3,Rfd8,Rad1,Rxd4,Rxd4,Rd8,Ne2,Kf8,Ng3,Rxd4,Bxd4,Nd5,Kg2,Bf6,Ne2,Bxd4,Nxd4,Ke8,e4,Nc3,f4,Kd7,Kf3,f6,Ke3,Kd6,f3,Na4,f5,e5,Ne6,g6,f4,exf4+,Kxf4,g5+,Kg4,Nc3,Nc5,Ke5', 'Nd7+,Kd6,Nxf6', 'https://lichess.org/training/UwgFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWGmu', 'Rapid', 'VeZiRzEyNeP', 1911, 'Deep_bluee', 1893, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,h6,O-O,d6,a4,a6,Nbd2,g5,Re1,Ba7,Nf1,g4,Nh4,Nxe4,Rxe4,Qxh4,Ng3,f5,Re1,f4,Ne4,g3,hxg3,fxg3,Nxg3,Qxg3,Qh5+,Kd8,Be3,Bxe3,Rxe3,Qg4,Qf7,Qf5,Qg7,Rf8', 'Rf3,Qxf3,gxf3', 'https://lichess.org/training/UWGmu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UwgrR', 'Rapid', 'veemkin', 1928, 'Ahmed_2500', 1814, 'c4,e5,Nc3,Nf6,g3,g6,Bg2,Bg7,d3,d6,f4,Nc6,Nf3,O-O,O-O,Re8,fxe5,Nxe5,Nxe5,Rxe5,Bf4,Re8,e4,Rb8,d4,b6,Nd5,Nxd5,cxd5,c5,Be3,Bxd4,Bxd4,cxd4,Qxd4,Bb7,Qf6,Qxf6,Rxf6,Rbd8,Rc1,Re7,b3,Kg7,Rf2,Re5', 'Rc7,Bxd5,exd5', 'https://lichess.org/training/UwgrR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UwGZj', 'Rapid', 'milidor', 1728, 'ypkoval', 1776, 'e4,c5,b4,cxb4,a3,Nc6,axb4,Nxb4,Ba3,Nc6,d4,d6,Nf3,Nf6,Nbd2,a6,c4,e6,Bd3,Be7,O-O,O-O,Re1,Bd7,e5,dxe5,dxe5,Ne8,Qc2,Bxa3,Rxa3,g6,Ne4,Ne7,Nfg5,Bc6,Nf6+,Nxf6,exf6,Nf5,Bxf5,exf5,Re7,Rc8,Qc1,h6,Rh3,Rc7,Rxc7,Qxc7,Rxh6,Qe5,Ne4,Bxe4', 'Rh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/UwGZj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWHaE', 'Rapid', 'DarthFener', 2132, 'Doktor_victor', 2075, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,h3,O-O,Bf4,c5,e3,cxd4,Nxd4,Qa5,Qd2,dxc4,Bxc4,e5,Nb3,Qc7,Bxf7+,Rxf7,Bg3,Nc6,O-O,Be6,Nc5,Bc4,Rfd1,Rd8,Qc2,Rxd1+,Rxd1,Rf8,N3e4,Bf7,Ng5,Nb4,Qc3,Nxa2,Qa3,b6,Nxf7,Qxf7,Nb3,Ne4,Qxa2,Nxg3,fxg3,Qf2+,Kh2,e4,Nd4+,Kh8,Ne6,Be5,Nxf8,Qxg3+,Kg1,Qxe3+,Kh1,Qg3,Kg1,Qh2+,Kf1', 'Qh1+,Kf2,Qxd1', 'https://lichess.org/training/UWHaE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UwhiB', 'Rapid', 'Kecap_Manis', 2179, 'Itstoohot', 2175, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,h3,h6,c3,Nf6,d4,exd4,cxd4,Bb6,Nc3,O-O,Re1,Re8,Bf4,Bd7,e5,dxe5,dxe5,Nh7,Nd5,Be6,Nxb6,axb6,Bxe6,Rxe6,Qxd8+,Rxd8,Rad1,Ree8,a3,Nf8,Rxd8,Rxd8,Kf1,Ne6,Be3,Kf8,Ke2,Ke7,Rd1,Rxd1,Kxd1,Na5,Nd2,c5,Kc2,b5,Kc3,Nc6,Nb3,b6,f4,f5,g3,Kd7,Nd2,Ne7,b4,Nd5+,Kd3,c4+,Ke2,Kc6,Nf3,Nc3+,Kd2,Nb1+,Kc2,Nxa3+,Kb2,Kd5,Kxa3,Ke4,Nh4,Kxe3,Nxf5+,Kf3,Kb2,h5,Kc3,g6', 'Nd4+,Ke3,Nxe6', 'https://lichess.org/training/UwhiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWhlo', 'Classical', 'Juke_3', 1844, 'jafaraghazadeh1987', 1821, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nxc6,bxc6,Nc3,Nf6,Be2,Be7,O-O,O-O,Bg5,Bb7,f4,Re8,Bf3,h6,Bh4,Qd7,e5,dxe5,fxe5,Qxd1,Raxd1,Nh7,Bg3,Bc5+,Kh1,Ng5,Bg4,Bb4,h4,Ne6,Ne4,Ba6,Rf2,c5,c3,Ba5,Bxe6,Rxe6,Nxc5,Rg6,Nxa6,Rxa6,Rd7,Rf8,b4,Bb6,Rfd2,Ra3,c4,Rxg3,c5,Bxc5,bxc5,Re3,Rxc7,Rxe5,Rc2,Rd8,Rxa7,Rc8,c6,f5,c7,Kh7,Rb7,Re7,a4,g5,hxg5,hxg5,a5,Kg6,a6,f4,a7', 'Re1+,Kh2,Rh8#', 'https://lichess.org/training/UWhlo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWHM3', 'Rapid', 'JohnOfEverywhere', 1643, 'minh12345678', 1636, 'e4,e5,Nf3,d6,Nc3,Nc6,Bc4,h6,d3,Nf6,a3,g6,Nd5,Nxd5,exd5,Bg7,dxc6,bxc6,Bd2,O-O,Qe2,d5,Ba2,e4,dxe4,dxe4,Ng1,Bxb2,Rb1,Bg7,Qc4,Be6,Qxc6,Bxa2,Rb4,Bd5,Qc5,c6,Ne2,Bf6,O-O,Be7,Qe3,Bxb4,Bxb4,Re8,Qxh6,Qf6,Bc3,Re5,f4,Rh5,Qxh5,gxh5,Bxf6,Rb8,Ng3,Rb2,Nxh5,Rxc2,Be7,Rd2,Nf6+,Kg7,Nxd5,cxd5,Re1,f6,h4,Kf7,Bb4,Rd4,Kh2,Rd3,g3,Kg6,g4,f5,h5+,Kf6,g5+,Kg7,Rg1,Rf3,h6+,Kg6,Bd2,e3,Bb4,d4,Rc1,Rxf4,Rc6+,Kxg5,h7,Rh4+,Kg2,Rxh7,Kf1,Kf4,Ke2,Rh2+,Kd1,d3', 'Bd6+,Ke4,Bxh2', 'https://lichess.org/training/uWHM3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWHOi', 'Bullet', 'Gal7g', 1744, 'orangeshirts', 1753, 'e4,c5,b4,d5,exd5,cxb4,a3,Qxd5,axb4,Nf6,Nf3,Bg4,c3,g6,d4,Bg7,Be2,Nc6,O-O,O-O,Bg5', 'Bxf3,Bxf3,Qxg5,Bxc6,bxc6', 'https://lichess.org/training/UWHOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWhvF', 'Blitz', 'pammon', 1801, 'semisolid', 1794, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,a6,O-O,Nf6,Bf4,e5,Bg3,Bg4,h3,Bh5,Qd3,Be7,Rac1,O-O,Rfd1,b5,Bd5,Nb4,Qd2,Nbxd5,Nxd5,Nxd5,Qxd5,Bxf3,gxf3,Bg5,Rc6,Bh6,Rxd6,Qg5,Qxe5,Rae8,Qxg5,Bxg5,Rxa6,f5,e5,f4,Bh2,Rxe5,Ra5,Rc8,a4,Rc2,b4,Ree2,Ra8+,Kf7,Rd7+,Kg6,Ra6+,Kh5,Rxg7,h6,Ra5,Rxf2,Bxf4,Bxf4,Rxb5+,Kh4', 'Rg4+,Kxh3,Rh5#', 'https://lichess.org/training/UWhvF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWIBw', 'Classical', 'pjmark', 1699, 'papocka2009', 1679, 'd4,d5,c4,dxc4,Nc3,e5,Qa4+,c6,Qxc4,Qxd4,Qb3,Nd7,e3,Nc5', 'exd4,Nxb3,axb3', 'https://lichess.org/training/UWIBw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UwIeS', 'Classical', 'zdrala', 1937, 'system12', 1900, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,O-O,a3,d6,b4,Bb6,Nc3,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Kg2,Nd4,Bg5,Bxf3+,Qxf3,Qxg5+,Qg3,Qxg3+,fxg3,Nxc2,Ra2,Nd4,Nd5,Rae8,a4,c6,Nc3,Ne6,b5,Bd4,Ne2,c5,Bd5,b6,Rf3,Ng5,Rf5,Ne6,a5,g6,Rf6,Kg7,Rf1,Nc7,Bc6,Re6,axb6,axb6,Ra7,Re7,Rb7,f5,Rxb6,c4,Nxd4,exd4,dxc4,fxe4,Rxf8,Kxf8,Rb8+,Kf7,b6,d3,bxc7,Rxc7,Bxe4,d2,Rb1,Rxc4', 'Bd5+,Kg7,Bxc4', 'https://lichess.org/training/UwIeS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uwIoN', 'Rapid', 'abasm', 1847, 'Vallabriga', 1982, 'Nf3,Nf6,b3,g6,Bb2,Bg7,e3,O-O,d4,d5,Nbd2,c5,c4,cxd4,Bxd4,Nc6,Rc1,Nxd4,Nxd4,e5,N4f3,Qa5,Nxe5,Ne4,Nf3,Bg4,Be2,dxc4,Rxc4,f5,h3,Rad8,hxg4,Nxd2,Nxd2,Bc3,O-O,Rxd2,Qc1,Bb2,b4,Bxc1,bxa5,Rxe2,Rfxc1,Rxa2,gxf5,Rxf5,Rc8+,Kg7,R8c7+,Rf7,Rxf7+,Kxf7,Rc7+,Kf6,Rxb7,Rxa5,g4,h6,f4,Ra2,Rh7,a5,Kf1,a4,Rxh6,Kg7,Rh3,Ra3,Kf2,Rb3,Rh1,Rb2+,Kf3,a3,Ra1,a2,f5,Kf6,fxg6,Kxg6,Kf4,Rf2+,Ke5,Kg5,e4,Kxg4,Ke6,Kf4,e5,Re2,Rf1+,Ke4,Kf6', 'Rf2+,Rxf2,a1=Q', 'https://lichess.org/training/uwIoN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uwios', 'Classical', 'AaradhyaBagul', 1800, 'chess_Is_War3', 1985, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Bd7,Qc2,Nge7,Be3,Nf5,dxc5,Nxe3,fxe3,Bxc5,O-O,Bxe3+,Kh1,O-O-O,Nbd2,Kb8,a4,Rc8,b4,Nxb4,Qb2,Nc6,Nb3,Na5,Ra3,Nc4,Bxc4,dxc4,Rb1,cxb3,Rxb3,Qc6,Rxb7+,Ka8,Rb3,Qc7,Rb7,Qd8', 'Rxa7+,Kxa7,Qb7#', 'https://lichess.org/training/Uwios');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWjPM', 'Rapid', 'RRyton34280', 1889, 'RONIEL', 1810, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Be2,Bf5,O-O,Nd7,Re1,O-O-O,Nc3,Nxc3,bxc3,Qf6,Bg5,Qg6,Bxd8,Kxd8,Nh4,Qg5,Nxf5,Qxf5,Bg4,Qg5,Rb1,Nf6,Bh3,b6,Qf3,d5,Qe2,Bd6,Qb5,Qf4,Re3,Qxh2+,Kf1,g5,Bf5,Qf4,g4,h5,Rbe1,hxg4', 'Re8+,Rxe8,Rxe8+,Nxe8,Qd7#', 'https://lichess.org/training/UWjPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UwjU7', 'Rapid', 'Brandon1976', 2027, 'AdrianMono', 2052, 'd4,c5,Bf4,cxd4,Qxd4,Nc6,Qd2,e5,Bg3,d5,Nf3,e4,Ne5,Be7,Nc3,Qb6,e3,f6,Nxc6,bxc6,Na4,Qd8,Be2,Bd7,O-O,Nh6,Qd1,O-O,f4,f5,Nc3,Be6,Qe1,Qb6,Bf2,Bc5,Na4,Qb4,Nxc5,Qxc5,c3,Rab8,b4,Qd6,a4,Nf7,h3,Kh8,Qc1,g5,Bg3,Qe7,fxg5,Rb7,h4,Kg7,Qd2,Nd6,Qd4+,Kg8,Qc5,Nc4,Qxc6,Nxe3,Rf2,Rc8,Qd6,Rxc3,Ba6,Rd7,Qxe7,Rxe7,Be5,Rc2,Bb5', 'Rxf2,Kxf2,Ng4+,Ke2,Nxe5', 'https://lichess.org/training/UwjU7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uwJui', 'Blitz', 'Kemalbeziroglu2', 1684, 'Special_1', 1690, 'd4,Nf6,Nf3,g6,Bg5,Bg7,e3,O-O,Bc4,d6,h4,Nc6,Nbd2,h6,Bxf6,Bxf6,g3,Kh7,Qe2,e5,d5,Nb4,O-O-O,a6,a3,b5,Bb3,Nxd5,Ng5+,Bxg5,hxg5,Qxg5,Bxd5,Rb8,f4,exf4,gxf4,Qxd5,Rdg1,b4,a4,Qa2,b3,Bf5,e4,Rfe8,Qc4,Qa1+,Nb1,Rxe4', 'Qxf7+,Qg7,Rxh6+,Kxh6,Rh1+,Bh3,Rxh3#', 'https://lichess.org/training/uwJui');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uwKI1', 'Rapid', 'Darbelly', 1817, 'RandomOrder', 1849, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bb5,Qb6,Qa4,a6,O-O', 'Qxb5,Qxb5,axb5', 'https://lichess.org/training/uwKI1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uwKnW', 'Blitz', 'Winthrop1', 1838, 'AldoNieto', 2289, 'd4,d5,Nf3,e6,Bf4,Nf6,e3,Bd6,Bxd6,cxd6,c4,dxc4,Bxc4,O-O,Nc3,Nc6,O-O,a6,a4,Re8,Rc1,d5,Bd3,Bd7,Qe2,Nb4,Bb1,Qa5,e4,dxe4,Nxe4,Nxe4,Qxe4,Bc6,Qxh7+,Kf8,Qh8+,Ke7,Qxg7,Rg8,Qe5,Bxf3,Qxa5', 'Rxg2+,Kh1,Rg4#', 'https://lichess.org/training/uwKnW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWKVC', 'Rapid', 'Raul_sanz', 1945, 'nitroglou', 1880, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,O-O,Bd3,Nc6,Nge2,e5,d5,Ne7,c5,Ne8,Rc1,f5,Bg5,h6,Be3,f4,Bd2,g5,f3,h5,g3,g4,fxg4,f3,gxh5', 'f2+,Kf1,Bh3#', 'https://lichess.org/training/uWKVC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWlAg', 'Rapid', 'DRIVE777', 1835, 'Gopal2405', 1735, 'd4,Nf6,Bf4,e6,Nf3,d5,e3,Be7,a3,Bd7,c4,dxc4,Bxc4,c5,dxc5,Bxc5,b4,Be7,Qc2,Nc6,Nbd2,O-O,O-O,a6,Be2,Nd5,Bg3,Bf6,Rac1,Rc8,Qb1,Nc3,Qd3,Nxe2+,Qxe2,Ne7,Nb3,Nf5,Rfd1,Qe7,Nc5,Bb5,Qe1,Nxg3,hxg3,Rfd8,a4,Rxd1,Qxd1,Bc6,Nd4,Bd5,e4,Bc6,Nxc6,Rxc6,f4,e5,f5,Bg5,Rc2,h6,Nd3,Rxc2,Qxc2,Qd7,Nxe5', 'Qd4+,Kh2,Qxe5,Qc8+,Kh7', 'https://lichess.org/training/uWlAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UwLKR', 'Rapid', 'AlmJaeger9', 1659, 'ayush3310', 1753, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,e5,Bg5,d6,Nf3,Be7,Bc4,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,a6,f4,b5,Bb3,b4,Ne2,Nxb3,cxb3,Nxe4,Bxe7,Qxe7', 'Qd5,O-O,Qxe4', 'https://lichess.org/training/UwLKR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWLZX', 'Blitz', 'TrDr79', 1702, 'WGM Gooner08', 1705, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,cxd5,exd5,e3,Be7,Bd3,O-O,O-O,h6,Bc2,Be6,Qd3,Nbd7,Ne5,Rc8,e4,dxe4,Nxe4,Nxe5', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/UWLZX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWm4c', 'Rapid', 'deviantart', 1790, 'Salatik', 1833, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,e3,e6,cxd5,cxd5,Bb5+,Nc6,Qa4,Qc7,Ne5,Rc8,O-O,a6,Bxc6+,bxc6,Qxa6,Bd6,Bd2,O-O,f4,Ng4,Rac1,Nxe5,fxe5,Be7,Nb5,Qb8,Rxc6,Bd3,Rb6,Bxf1', 'Rxb8,Rxb8,Kxf1', 'https://lichess.org/training/UWm4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uwm4Z', 'Rapid', 'morozov1952', 1878, 'sargamuskotaly', 1841, 'c4,e5,Nc3,Nf6,g3,c6,Bg2,d5,cxd5,cxd5,d4,e4,Bg5,Be7,f3,exf3,Bxf3,Be6,Qb3,Qd7,Bxf6,Bxf6,e3,O-O,Bxd5,Bxd5,Qxd5,Qe7,Kf2,Nc6,Qe4,Qd7,Nge2,Rfe8,Qf4,Nb4,Rad1,Rad8,Rd2,Nd5,Nxd5,Qxd5,Rhd1,Bg5,Qf3,Bxe3+,Kg2,Qxf3+,Kxf3,Bxd2,Rxd2,Re7,Nc3,Red7,d5,f6,Ke4,Kf7,Kd4,g5,Kc5,b6+,Kc6,Rd6+,Kb5,h5,a4,Rc8,Ka6,Rc7', 'Nb5,Rxd5,Rxd5', 'https://lichess.org/training/Uwm4Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uwMij', 'Rapid', 'Barong', 1712, 'lorenzos', 1905, 'e4,e5,Nc3,Nf6,Bc4,c6,Nf3,d5,exd5,cxd5,Bb3,Nc6,O-O,Be7,Ba4,Bg4,h3,Bxf3,Qxf3,O-O,Bxc6,bxc6,d3,h6,Qg3,Kh7,Qxe5,Bd6,Qf5+,g6,Qf3,Re8,Ne2,Kg7,Nd4,c5,Ne2,Nh5,g4,Nf6,Bf4,g5,Bg3,Qc7,h4,Re6,hxg5,hxg5,Rae1,Rae8,Bxd6,Qxd6,d4,Rh8,Ng3,cxd4', 'Nf5+,Kg8,Nxd6', 'https://lichess.org/training/uwMij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWmrX', 'Blitz', 'GM Ttodorov', 2143, 'knightmhere', 2123, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Nxe5,O-O,d4,Bb6,Be2,Re8,O-O,d6,Nc4,c6,Nxb6,axb6,Bd3,Bg4,f3,Bh5,Bg5,Nbd7,Ne2,h6,Bh4,Qc7,Bg3,Re7,c3,Rae8,Nf4,c5,Bb5,Bg6,Nxg6,fxg6,dxc5', 'Qxc5+,Qd4,Qxb5', 'https://lichess.org/training/uWmrX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uwoj3', 'Rapid', 'anwarmussar', 2080, 'yuriy031', 2131, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Nf6,Nc4,b5,Nd2,Nd4,Bd3,Bg4,f3,Bh5,O-O,Qb6,Kh1,g5,Nd5,Nxd5,exd5,f5,c3,Bg6,cxd4,Qxd4,Nb3,Qxd5,Bxg5,Qe6,Re1,h6,Bf4,Be7,Rc1,Qf6,Bg3,f4,Bf2,Bf7,Na5,O-O,Nc6,Kh8,Nxe7,Qxe7,Qe2,Rg8,a3,Rg7,Qc2,Rag8,Rg1,Qg5,Bb6,Qh4,Qf2,Rg3,Rc7,R8g5,Rc8+,Kg7,Bd8', 'Qxh2+,Kxh2,Rh5+,Bh4,Rxh4#', 'https://lichess.org/training/Uwoj3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uwoJY', 'Rapid', 'Carrascoele', 1675, 'droooney', 1837, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,d5,exd5,exd5,Bb5,Bd6,d4,cxd4,Nxd4,Bd7,Be3,Nf6,O-O,O-O,Bxc6,bxc6,Bg5,h6,Bh4,Rb8,b3,Be5,Nd2,c5,N4f3,Bxc3,Rc1,d4,Nc4,Bb5,Nfe5,Bxc4,bxc4,Rb2,Nc6,Qd6,Qf3,Rxa2,Rfd1,Rc8,Bxf6,Qxf6', 'Qxf6,gxf6,Ne7+,Kf8,Nxc8', 'https://lichess.org/training/uwoJY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWPga', 'Blitz', 'xisco949', 2259, 'WFM dishearten', 2336, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,c3,b5,Bc2,d5,d3,h6,h3,O-O,a4,Bb7,b4,Bb6,axb5,axb5,Rxa8,Qxa8,Qe2,d4,Bd2,Rd8,c4,bxc4,dxc4,Qa2,Bd3,Re8,c5,Ba7,Bc4,Qc2,Qd3,Qxd3,Bxd3,Nh5,Na3,f6,Bc4+,Kh7,Bf7,Ra8,Bxh5,Bxc5,bxc5,Rxa3,Rb1,Ba6,Be8,Ne7,c6,Bd3,Rc1,Bxe4,Bb4,Rb3,Bxe7,Bxf3,gxf3,Rxf3,Bd8,Rc3,Rb1,d3,Bxc7,d2,Rf1,Rc1,Ba5', 'Rxf1+,Kxf1,d1=Q+', 'https://lichess.org/training/uWPga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWqLt', 'Rapid', 'scorpion947', 1750, 'chessoogle', 1736, 'd4,Nf6,Bf4,e6,a3,Nh5,Be5,d6,Bg3,Nxg3,hxg3,Nd7,Qd3,g6,Nc3,b6,Nf3,Bb7,e4,Qe7,O-O-O,O-O-O,e5,dxe5,dxe5,Nxe5', 'Qxd8+,Qxd8,Rxd8+,Kxd8,Nxe5', 'https://lichess.org/training/UWqLt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWRRi', 'Blitz', 'Stunt_Actor', 1720, 'Ankhislife', 1847, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Nc3,Be6,b3,Bxc4,bxc4,Qf6,Be3,Nge7,O-O,O-O-O,a4,Ba5,Nb5,a6,d5,Ne5,Nxe5,Qxe5,Nd4,h5,Nb3,Bc3,Rc1,Bb4,Qd3,h4,Bd4,Qf4,h3,g5,Bxh8,Rxh8,Rb1,g4,Qe3,Qe5,hxg4,h3,f4,Qg7,gxh3,Ng6,Kg2,Nh4+,Kg3,Qh6,Rh1,Ng6,Nd2,Bc5,Qf3,Qh4+,Kg2,Qh6,g5', 'Nh4+,Kg3,Nxf3,gxh6,Nxd2', 'https://lichess.org/training/uWRRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uwrs0', 'Classical', 'val1313', 1814, 'Tonuka', 1853, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,c5,Ne2,Nc6,Be3,cxd4,cxd4,O-O,O-O,Bg4,f3,Na5,Bxf7+,Rxf7,fxg4,Rxf1+,Qxf1,Nc4,Qc1,Rc8,Rb1,Qd7,h3,Nd6,Qa3,Nc4,Qb3,Qe6,Rc1,Qxe4', 'Rxc4,Rxc4,Qxc4+', 'https://lichess.org/training/Uwrs0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWrV6', 'Classical', 'Duyuldu', 1710, 'ZaurBaku8787', 1614, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,a6,Ba4,b5,Bb3,Nf6,d3,g6,h3,Bg7,Be3,Bb7,Qd2,O-O,Bh6,Nh5,g4,Bxh6,Qxh6,Nf4', 'Ng5,Qxg5,Qxg5', 'https://lichess.org/training/uWrV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UwRvn', 'Rapid', 'Aleksandr_Verevkin', 1732, 'Electric_Max', 1741, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,g3,Be7,Bg2,Nxe4,Bxe7,Nxc3,bxc3,Qxe7,O-O,O-O,Re1,g6,Be4,Nd7,Nb3,Ne5,f4,Nc4,Qd4,Na3,Qb4,Nb5,c4,Nc7,f5,Rb8,Rad1,Rd8,Na5,Ne8,Nc6,Qc7,Nxb8,Qxb8,fxg6,hxg6,Qa5,b6,Qg5,Qc7,Bd3,d5,cxd5,Rxd5,Qe3,b5,Be4,Rc5,Rd2,Nd6,Bd3,Nc4,Bxc4,Rxc4,Qd3,Bb7,Qd8+,Kg7,Qxc7,Rxc7,Re5,Bd5,h4,Bxa2,g4,Rc3,Kg2,Bd5+,Kh2,a5,h5,a4,hxg6,fxg6,g5,a3,Ree2,a2,Re1,Rc4,Kg3,Rb4,Rdd1,Rb2,Rc1,Rb4,Ra1,Rc4,Rxa2', 'Rc3+,Kf2,Bxa2', 'https://lichess.org/training/UwRvn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWtVZ', 'Classical', 'Interreflections', 2126, 'secaje06', 1953, 'e4,Nc6,d4,e5,c3,d5,exd5,Qxd5,Be3,exd4,Bxd4,Nxd4,cxd4,Bb4+,Nc3,Nf6', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/UWtVZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWuy5', 'Rapid', 'Brasilarquiteto', 1906, 'nqnovac', 1809, 'd4,Nf6,Bf4,e6,h3,d5,e3,c5,c3,cxd4,exd4,Qb6,b3,Be7,Nf3,O-O,Bd3,Qc6,O-O,Ne4,Bxe4,dxe4,Ne5,Qd5,c4,Qd8,Nc3,Bf6,Nxe4,Bxe5,Bxe5,Qh4,Nd6,Nc6,Bg3,Qxd4,Qxd4,Nxd4,Rad1,Ne2+,Kh2,Nxg3,fxg3,b6,Rd4,e5,Re4,f6,Rd1,Ba6,Nf5,Kh8,Rd7', 'Bc8,Rc7,Bxf5', 'https://lichess.org/training/UWuy5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWwPf', 'Blitz', 'FM stoni111121', 2210, 'moazo', 1915, 'Nf3,c5,c4,Nc6,g3,g6,Bg2,Bg7,O-O,b6,Nc3,Bb7,b3,Nf6,Bb2,Ne4,Qc2,Nxc3,Bxc3,Bxc3,Qxc3,O-O,d4,cxd4,Nxd4,Qc8,Rfd1,Nxd4,Qxd4,Bxg2,Kxg2,Qc6+,f3,d6,h4,h5,Rd2,Qc5,Rad1,Rac8,e4,a6,Kf2,Qxd4+,Rxd4,Rc6,Rd5,Rc5,Ke3,Rfc8,f4,Kf8,Rxc5,bxc5,e5,Rd8,exd6,Rxd6,Rxd6,exd6,Ke4,Ke7,Kd5,Kd7,a3,a5,Ke4,Ke6,Ke3,Kf5,Kf3,f6,g4+,hxg4+,Kg3,Ke4,Kxg4,Ke3', 'f5,gxf5+,Kxf5,a4,bxa4', 'https://lichess.org/training/uWwPf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWWUP', 'Rapid', 'aissash2013', 1615, 'LordGrim26', 1625, 'd4,d5,c4,dxc4,e3,Be6,Nc3,Nf6,Qa4+,c6,Bxc4,Bxc4,Qxc4,e6,Nf3,b5,Qd3,Bd6,O-O,O-O,e4,b4,Ne2,Bc7,e5,Ng4,h3,Nxe5,Nxe5,Bxe5,Qe4,Bc7,a3,b3,Bd2,Bb6,Rfd1,Qc7,Bb4,Re8,Rac1,Na6,Rxc6,Qd7,Bc3,f5,Qf3,Re7,d5,exd5,Rxd5,Bxf2+', 'Kxf2,Qxc6,Rd8+,Rxd8,Qxc6', 'https://lichess.org/training/uWWUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uWxo4', 'Rapid', 'VK_Night', 1678, 'Tarzan5', 1676, 'e4,Nf6,Nc3,d5,exd5,e5,dxe6,Bxe6,Nf3,Bc5,Bb5+,c6,Be2,O-O,O-O,Nbd7,d4,Bb6,Bg5,Rc8,a4,Ba5,Qe1,b5,axb5,cxb5,Bxb5,Qb6,Bxd7,Nxd7,Ne5,Qxb2,Rxa5,Rxc3,Nxd7,Bxd7,Rxa7,Be6,Rb7,Qxc2,Be7,Rfc8,Bd6,Bc4,Rb8,Bxf1', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/uWxo4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UWZI3', 'Blitz', 'Remerdus', 2110, 'LanceVance22', 2207, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,Bg4,Qb3,Qc8,Nd2,e6,Ngf3,Be7,O-O,O-O,Rae1,Bh5,Ne5,Nxe5,Bxe5,Nd7,Bf4,a6,Re3,b5,Qc2,Bg6,Bxg6,hxg6,Nf3,a5,Ng5,b4,Qd3,bxc3,bxc3,Qc6,Rh3,Rfc8', 'Rh8+,Kxh8,Qh3+,Kg8,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/UWZI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ux0Na', 'Rapid', 'Malouas', 1620, 'DeXLight', 1651, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,c6,Be3,Na6,O-O,Nc7,Nd2,Bd7,f4,a6,e5,dxe5,fxe5,Nfe8,Nde4,b5,Qd2,Rb8,b3,f6,exf6,Nxf6,Nxf6+,Rxf6,Ne4,Rf8,Rxf8+,Bxf8,Rf1,b4,Bg5,Ne6,Nd6', 'Nxg5,Qxg5,exd6,Qxd8,Rxd8', 'https://lichess.org/training/Ux0Na');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UX1g2', 'Rapid', 'imanvizheh', 1827, 'Seramejoe', 1843, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,f6,Bxc6+,bxc6,h3,Bb7,Nf3,c5,d4,cxd4,exd4,e4,Nh2,Nh6,Ba3,c5,Bxc5,Bxc5,dxc5,Qa5+,Qd2,Qxc5,O-O,d4,Qf4,O-O,Ng4,Nxg4,Qxg4,Qxc2,Na3,Qc6,Rac1,Qd5,Nc4,h5,Qg6,e3,fxe3,dxe3,Nxe3,Qd4,Rfe1,Qd2,Nf5,Rf7,Nh6+', 'Qxh6,Qxh6,gxh6', 'https://lichess.org/training/UX1g2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uX4E2', 'Rapid', 'Arief79', 2090, 'Deden_Gebot', 2165, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,g6,Be3,Bg7,c3,Nf6,Bd3,O-O,O-O,d5,Nd2,Ng4,Nxc6,bxc6,Bc5,Rb8,h3,Ne5,Nb3,Nxd3,Qxd3,Qc7,exd5,cxd5,Qxd5,Be6,Qg5,Bf6,Qe3,Bxb3,axb3,Rxb3,Rxa7,Qb8,Bxe7,Bxe7,Qxe7,Rxb2,Rc7,Qb6,Qd7,Qf6,c4,Kg7,c5,Rd8,Qe7,Rxf2,Rxf2', 'Rd1+,Kh2,Qxf2', 'https://lichess.org/training/uX4E2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uX5q4', 'Blitz', 'jyojyo', 1784, 'farooqui', 2034, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,O-O,Be7,h3,Bxf3,Qxf3,Nf6,b4,a6,b5,axb5,Bxb5,exf4,Bxc6+,bxc6,d4,O-O,Bxf4,Qb8,Nd2,Qb2,Rae1,Qxd4+,Kh1,Rxa2,e5,Nd5,exd6,Bxd6,Bxd6,cxd6', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/uX5q4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ux7jF', 'Blitz', 'mauros1993', 1866, 'cimax102', 1804, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,O-O-O,d5,exd5,Nxd5,Nxc6,bxc6,Nxd5,cxd5,Qxd5,Qc7,Qxa8,Bf5,Qxf8+,Bxf8,Bd3,Be6,a3,Bg7,g3,Qb7,Bb5,Qxb5', 'Rd8+,Bf8,Bh6,Qg5+,Bxg5', 'https://lichess.org/training/ux7jF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ux8rR', 'Blitz', 'vettelf1', 1945, 'mortar98', 2011, 'd4,Nf6,Nf3,e6,e3,d5,Bd3,Nbd7,O-O,c5,b3,Be7,Bb2,O-O,Nbd2,a6,Ne5,b5,c3,Nxe5,dxe5,Nd7,f4,Qb6,Rf3,c4,Bc2,Bb7,Rh3,g6,Qg4,Rac8,Nf3,Qxe3+,Kh1,Qe2,Re1,Qxc2,Ng5,Bxg5,Qxg5,d4,Rg1,Rfe8,Qh6,Nf8,Bc1,Qf5,cxd4,cxb3,axb3,Qe4,Ba3,Rc2,Bxf8', 'Qxg2+,Rxg2,Rc1#', 'https://lichess.org/training/Ux8rR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UX8Xt', 'Blitz', 'squares10', 2490, 'FM Zorbos', 2530, 'd4,Nf6,Nf3,g6,h3,Bg7,Bf4,d6,e3,O-O,Be2,c5,O-O,b6,c3,cxd4,cxd4,Bb7,Nc3,Nbd7,Rc1,Re8,Bc4,e5,Bh2,Rc8,Qb3,Qe7,dxe5,dxe5,Ng5,Rf8,Rfd1,h6,Nf3,e4,Bd6,Qe8,Nd4,Ne5,Bb5,Qd8,Bxf8,Qxf8,Qa4,a5,Nce2,Rxc1,Rxc1,Qe7,Nc6,Qc7,Nxe5,Qxe5,Nd4,Nh5,Bc6,Ba6,Qb3,Qg5,Qd5,Be5,Be8', 'Bh2+,Kxh2,Qxd5', 'https://lichess.org/training/UX8Xt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uXAhS', 'Rapid', 'Janos_Karoly', 1692, 'JoelTibaldo', 1607, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,Nc3,dxc4,e3,O-O,Bxc4,b6,O-O,Bb7,Qe2,Nbd7,Ba6,Qc8,Bxb7,Qxb7,Rac1,c5,dxc5,Nxc5,b4,Ncd7,a3,Rac8,Nd4,Rc7,Ncb5,Rxc1,Rxc1,a6,Nc3,Rc8,h3,h6,Bh4,g5,Bg3,Ne4,Qd3,Nxc3,Rxc3,Rxc3,Qxc3,Bf6,Qc6,Qxc6,Nxc6,Bb2,a4,b5,axb5,axb5,Kf1,Nb6,Bd6,Nc4,Bc5,Nd2+,Ke2,Ne4,Be7,Nf6,Na7,Nd5,Bc5,Ba3,Nxb5,Bxb4,Bxb4,Nxb4,Kf3,f5,g4,fxg4+,Kxg4,Kg7,Nd4,e5,Nf5+,Kg6,Ne7+,Kf6,Ng8+,Kg7,Ne7,Kf6,Nf5', 'h5+,Kf3,Kxf5', 'https://lichess.org/training/uXAhS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uxBgp', 'Rapid', 'santiagop', 1693, 'FatesWarningAwaken', 1908, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Qe2+,Qe7,Ne5,Nf6,O-O,Ne4,Nxd7,Nxd7,Nc3,Nxc3,Bxd7+,Kxd7,Qg4+,Qe6,Qxe6+,fxe6,dxc3,Bd6,g3,Rhf8,Be3,Rf5,Rae1,a5,a3,a4,Ra1,h5,b3,h4,b4,c4,Rfe1,hxg3,hxg3,Rh8,Kg2,b5,Rad1,Kc6,f4,Rfh5,Bd4,Rh2+,Kf3,Rxc2,Bxg7,Rhh2,Bd4,Kd7,Kg4,Rh7,Rc1,Ra2,Ra1,Rhh2,Kg5,Be7+,Bf6,Bd6,g4,Rhf2,f5,Bf4+,Kg6,e5,Bxe5', 'Rxa1,Rxa1,Bxe5', 'https://lichess.org/training/uxBgp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UxCgn', 'Rapid', 'zahrajan1382', 1967, 'macan', 1940, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be2,O-O,Bf4,Nbd7,O-O,Ne5,Qd2,a6,Nf3,Nfg4,h3,Nxf3+,Bxf3,Ne5,Bxe5,dxe5,Rad1,Bd6,Nd5,b6,c4,Bb7,Nxb6,Qh4,Nxa8,Bxa8,Qe3,Bb7,c5,Be7,Rd7,Bg5,Qc3,Bc6,Rxc7,Bb5,Rd1,Bf4,Bg4,h5,g3,Qg5,gxf4,exf4,Rd5,Qg6,Rxh5,Qxe4,Be6,Qxe6,b3', 'Qg6+,Kh2,Qxh5', 'https://lichess.org/training/UxCgn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UxDjP', 'Rapid', 'surprisinghacker', 1661, 'Tipejinho', 1650, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,c6,Bc4,Nf6,c3,d6,cxd4,Nxe4,Re1,f5,f3,d5,Bb3,Qb6,fxe4,Qxd4+,Kh1,fxe4,d3,Bf5,Be3,Qe5,dxe4,Bd6,Bf4,Qxf4,exf5+,Kd7,Qh5,Rae8,Rxe8,Rxe8,Nc3,Re5,Qf3', 'Re1+,Rxe1,Qxh2#', 'https://lichess.org/training/UxDjP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UXDYt', 'Rapid', 'Oiu12444', 1812, 'Kruska9', 1780, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c3,c5,Be3,c4,a4,Qb6,Ra2,a5,Nbd2,Nc6,Nh4,Bg6,Nxg6,hxg6,h3,Nge7,b3,cxb3,Qxb3,Qxb3,Nxb3,Nf5,Bb5,Nxe3,fxe3,Kd7,Kd2,Be7,Rb2,b6,Rf1,f5,Nc1,Kc7,Nd3,g5,c4,Nb4,cxd5,Nxd5,Rc1+,Kd8,Rc6,Rc8,Rxc8+,Kxc8,Rc2+,Kd8,Rc6,g4,hxg4,fxg4,Rxe6,Rh2,Bc6,Nb4,Nxb4,Bxb4+,Kd3,Rh6,Rxh6,gxh6,e6,h5,Kc4,h4,e4,h3,gxh3,gxh3,e5,h2,Bh1,Be1,Kb5,Bf2,d5,Ke7,Kc6,Bd4,d6+,Kxe6,d7,Ke7,e6,Kd8', 'e7+,Kxe7,Kc7', 'https://lichess.org/training/UXDYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uXEFw', 'Rapid', 'inanaydin', 1695, 'Partenit', 1899, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,Ng5,Nh6,Qf3,O-O,O-O,Nd4,Qd1,Bg4,Nf3,Qf6,Nbd2,a5,h3,Nxf3+,Nxf3,Bh5,Be3,c6,Bxc5,dxc5,a4,g5,g4,Nxg4,hxg4,Bxg4,Kg2,h5,Rh1,h4,Qe2,h3+,Kg3', 'Qf4#', 'https://lichess.org/training/uXEFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UxeKj', 'Rapid', 'Rainer2288', 2070, 'scherenaxt', 2113, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Nxe4,d4,d5,dxe5,Be6,Nbd2,Nxd2,Bxd2,Bc5,h3,O-O,c3,Qd7,Bc2,Rad8,Bg5,Be7,Qd3,g6,Bf6,Bxh3,gxh3,Qxh3,Nh2,Qxd3,Bxd3,Bxf6,exf6,Ne5,Be2,Rd6,f4,Nc4,Bxc4,dxc4,f5,Rxf6,fxg6,Rxg6+,Kf2,Rd8,Rad1,Re8,Nf3,c5,Rg1,b4,Rxg6+,hxg6,Re1,Rxe1,Kxe1,Kg7,Ne5,f5,Nxc4,Kf6,Ke2,f4,cxb4,cxb4,Nb6,Kf5,Nd5,a5,a3,bxa3,bxa3,g5,Kf2,g4,Nc3,Ke5,Ke2,Kd4,Kd2', 'g3,Ne2+,Ke4', 'https://lichess.org/training/UxeKj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uxenu', 'Classical', 'poesias500', 1704, 'Stepbystep01', 1663, 'd4,b6,c4,Bb7,Nc3,Nf6,f3,e6,a3,Be7,e4,d5,cxd5,exd5,Bd3,dxe4,fxe4,Qxd4', 'Bb5+,Qd7,Bxd7+', 'https://lichess.org/training/Uxenu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uxg54', 'Blitz', 'Karyokin', 2421, 'IM EmmanuelJimenez', 2341, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,e3,O-O,Bd3,c6,Qc2,h6,h4,hxg5,hxg5,Ne4,Nxe4,dxe4,Bxe4,Bxg5', 'Bh7+,Kh8,Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/uxg54');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UXGi4', 'Classical', 'derli', 1654, 'arturo0610', 1774, 'e4,e6,d4,d5,e5,c5,Be3,Qb6,b3,Nc6,Nf3,cxd4,Bxd4,Nxd4,Nxd4,Bc5,c3,Ne7,Be2,Bxd4,cxd4,Qb4+,Qd2,Qb6,O-O,Bd7,Rc1,Nf5,Rd1,Bb5,Bxb5+,Qxb5,Nc3,Qb6,Na4,Qd8,Rac1,O-O,Rc3,f6,Nc5,Qe7,exf6,Rxf6,Re1,Rg6,g3,Rd8,Qf4,Rf6,Qe5,Rd6,Rf3,b6,Nd3,Qf8,Kh1,Nxd4', 'Rxf6,gxf6,Qxd4', 'https://lichess.org/training/UXGi4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uxGPJ', 'Blitz', 'avatar08', 1767, 'michel93', 1734, 'd4,Nf6,Bf4,d5,Nf3,c5,e3,Nc6,c3,e6,Nbd2,Bd6,Bxd6,Qxd6,Bd3,O-O,O-O,Re8,Bb1,e5,dxe5,Nxe5,Nxe5,Rxe5,Nf3,Rh5,h3,Bxh3,gxh3,Rxh3,Re1,Ne4,Bxe4,Qh6,Bxd5', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/uxGPJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uXhZ7', 'Rapid', 'KarlAugust', 2128, 'celphi', 1994, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d5,exd5,Qxd5,Nc3,Qxd4,Be3,Qxd1+,Rxd1,f6,Nb5,Kf7,Bc4+,Kg6,h4,h5,Nh3,e5,f4,Bb4+,Kf2,Bg4,Bd3+,Kf7,Be2,Nge7,fxe5,Nxe5,a3,a6,Nd6+,Bxd6,Rxd6,Nf5,Rb6,Nxe3,Rxb7+,Ke6,Kxe3,Bxe2,Kxe2,Rac8,Rd1,Rc2+,Rd2,Rhc8,Rxg7,Kf5,Rh7,Kg4,Nf2+,Kxh4,Rg7,a5', 'g3#', 'https://lichess.org/training/uXhZ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UXJ56', 'Rapid', 'Pixys', 2081, 'Radee813', 1690, 'e4,e5,Nc3,Bc5,Bc4,h6,Nf3,d6,h3,Nc6,a3,a6,d3,Nge7,O-O,f5,Be3,f4,Bxc5,dxc5,Nd5,g5,Nf6+,Kf8,Nh2,Nd4,Qh5,Be6,Bxe6,Nxe6,Nhg4', 'Ng7,Qxh6,Rxh6', 'https://lichess.org/training/UXJ56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uxk22', 'Rapid', 'ChaudFontaine', 1981, 'Chess_Lasse', 1940, 'e4,c6,c3,d5,exd5,cxd5,d4,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,Nc6,Bb5,e6,Bg5,Be7,Bxf6,Bxf6,O-O,O-O,Bxc6,bxc6,Nd2,a5,Rfe1,a4,a3,Qb6,Rab1,c5,dxc5,Qxc5,Qe3,d4,Qf3,dxc3,Ne4,Qf5,Qxf5,exf5,Nxf6+,gxf6,bxc3,Rfc8,Rec1,Rc4,Rb4,Rac8,Rxc4,Rxc4,Kf1,Re4,f3,Re5,Kf2,f4,Re1,Kf8,Rxe5', 'fxe5,g4,fxg3+', 'https://lichess.org/training/Uxk22');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uXksX', 'Blitz', 'Jaquecol2', 2017, 'PinkDream', 2062, 'e4,e5,Nf3,d5,Nc3,d4,Ne2,Bd6,d3,f5,Nd2,f4,f3,Be6,g3,Nd7,Bg2,h5,O-O,h4,g4,h3,Bh1,Nb6,c3,Qd7,cxd4,Bxg4,dxe5,Bxe5,Nc4,Bd4+,Nxd4,Qxd4+,Rf2,Nxc4,fxg4,Ne3,Qe2,O-O-O,Bxe3,fxe3,Rf3,Rh4,Rxe3,Rxg4+,Qxg4+,Kb8,Qe2,Nf6,Bf3,Re8,Kh1,Nd5,exd5,Rxe3,Qf2,Qf4,Rf1,a6,Be4', 'Qxf2,Rxf2,Re1+,Rf1,Rxf1#', 'https://lichess.org/training/uXksX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UxktH', 'Rapid', 'vk2018', 2006, 'mnqifuqah', 2029, 'd4,g6,c3,d6,Nf3,Nd7,e4,Bg7,Be3,e5,Nbd2,h6,Be2,Ne7,Nc4,Nc6,Qd2,f5,dxe5,dxe5,exf5,gxf5,Qc2,O-O,Rd1,Qe7,O-O,e4,Nd4,Nce5,Nxe5,Nxe5,Bf4,Ng6,Qd2,Kh7,Nb5,Nxf4,Qxf4,Be5,Qd2,Rg8,f4,Bf6,Bc4', 'Qc5+,Nd4,Qxc4', 'https://lichess.org/training/UxktH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uxkTU', 'Blitz', 'aleksandrshevchenko', 2049, 'Three4', 2072, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Nd5,Nf3,Nf4,Bf1,Be7,g3,Nd5,Nxe5,O-O,Bg2,Re8,O-O,Bf5,d4,f6,Nd3,Nc4,b3,Nd6,Bb2,Be4,c4,Bxg2,Kxg2,Nc7,Nd2,Nf5,Nf3,Bf8,Nf4,Ne6,Nxe6,Rxe6,d5,cxd5,cxd5,Rd6,Qc2,Rxd5,Rad1,a5,Qc6,Rxd1,Rxd1,Qxd1,Qxa8,Qc2,Ba3,Ne3+,Kh3', 'Qf5+,g4,Qxg4#', 'https://lichess.org/training/uxkTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uXLbX', 'Rapid', 'PEDASNYA-LADA', 2128, 'awangkoteng', 2204, 'Nf3,c6,e3,d5,d4,Bf5,Nbd2,Nf6,c4,e6,c5,Be7,b4,Nbd7,a4,a6,a5,Qc7,Qb3,e5,dxe5,Nxe5,Bb2,Nfd7,Be2,O-O,O-O,Bg4,Nxe5,Bxe2,Nxd7,Bxf1,Nxf8,Bc4,Nxc4,dxc4,Ne6,fxe6,Qxc4,Qd7,e4,Rd8,g3,Kf7,Qe2,Kg8,Qg4,Bf8,h4,Qf7,Bc3,Rd3,Rc1,Rf3,Rc2,h5,Qg5,Be7,Qd2,Qg6,Qe2,Rf4,Kh2,Rxe4,Qd3', 'Rxh4+,gxh4,Qxd3', 'https://lichess.org/training/uXLbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UxlNZ', 'Classical', 'sabs', 1896, 'DamianSchualle', 1949, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,e3,d6,Bd3,Nbd7,Nf3,h6,Bh4,e5,O-O,c6,Qc2,g5,Bg3,Qe7,Rfe1,Nh5,a3,Nxg3,hxg3,Nb6,b4,f5,dxe5,dxe5,e4,f4,gxf4,gxf4,c5,Nd7,Bc4+,Kh8,Rad1,Nf6,Rd6,Bg4,Nh2,f3,gxf3,Bh3,Red1,Nh5,Kh1,Nf4,Rg1,Rad8,Rxd8,Qxd8,Bf1,Bxf1,Rxf1,Qg5,Rg1,Qh4,Ne2', 'Qxf2,Nxf4,Qxc2', 'https://lichess.org/training/UxlNZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uxM4N', 'Rapid', 'nebchess', 2192, 'Jansoldier', 2131, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bg4,h3,Bh5,d3,Nf6,g4,Bg6,Nh4,Be7,Nxg6,hxg6,Qf3,a6,Ba4,b5,Bb3,Na5,Bc2,Qd7,Be3,Nxg4', 'hxg4,Rxh1+,Qxh1', 'https://lichess.org/training/uxM4N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uxnde', 'Rapid', 'Xsatranc', 1688, 'mmtTR', 1660, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,bxc3,Nxc3,Qb3,Ne4,Bxf7+,Kf8,Re1,Nd6,Bg5,Nxd4,Qd5,Nxf3+,gxf3,c6,Re8+,Nxe8,Bxd8,cxd5,Bxd5,d6,Re1,Nf6', 'Be7+,Ke8,Bxf6+,Kf8,Be7+', 'https://lichess.org/training/uxnde');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UxNnX', 'Rapid', 'UselessP1ayer', 2071, 'wkheder', 2032, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nc3,b6,Nf3,Bb7,Be3,e6,h3,Nbd7,g3,Bb4,Bg2,Ne4,Qc2,Ndf6', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/UxNnX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UxO2p', 'Rapid', 'jaaap', 2200, 'kiko1996', 2217, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,c3,b5,Bb3,Be7,O-O,O-O,Ng5,Na5,Bc2,d6,d4,exd4,cxd4,Nc4,b3,Nb6,h4,h6,Nc3,hxg5,hxg5,Nfd7,Qh5,g6,Qh6,Re8,f4,Bf8,Qh4,Bg7,Be3,c5,Ne2,Nf8,Rad1,cxd4,Bxd4,Ne6,Bxg7,Nxg7,Kf2,Nd7,Rh1,Qb6+,Kf3,Nh5,g4,Qc7,gxh5,Qxc2,Rd4,Bb7,Kg3,Qxe2,hxg6,Qe3+,Kg4,Qe2+,Kg3,Qe3+,Kg4,Qxd4', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/UxO2p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uxoox', 'Rapid', 'andersonbcdefg', 1753, 'dandarie', 1828, 'e4,a6,Nf3,b5,d3,e6,Nbd2,Bb7,g3,Nf6,Bg2,Be7,O-O,d6,Qe2,Nbd7,b4,c5,a3,O-O,Bb2,e5,Ng5,h6,Nh3,Qc7,Rac1,cxb4,axb4,Nb6,f4,exf4,Rxf4,Nbd7,Rcf1,Ne5,d4,Nc4,Nxc4,bxc4,c3,d5,e5,Ne4,Bxe4,dxe4,Bc1,Bc8,Qh5,Bxh3,Qxh3,Bg5,Rxe4,Bxc1,Rxc1,a5,Rg4,Kh8,Qf1,axb4,cxb4,Rfc8,Rf4,Kg8,Rc3,Ra4,Rcf3,Qd7,Rxf7,Qxd4+,Kg2,Ra2+,Kh3,Qxe5', 'Rf8+,Rxf8,Rxf8+,Kh7,Qb1+', 'https://lichess.org/training/uxoox');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UXpzF', 'Rapid', 'zoranlaza', 1804, 'defeofilippo', 1649, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Bg5,d6,c3,Bg4,O-O,Qd7,h3,h6,Bxf6,gxf6,hxg4,Qxg4,Nh2,Qg6,a4,Rg8,g3', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/UXpzF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uXR2e', 'Blitz', 'CM j_coca', 2239, 'MagodoChess', 2268, 'f4,d6,Nf3,c6,e3,b6,d4,Bb7,c3,e6,Bd3,g6,O-O,Bg7,Nbd2,Ne7,Qe2,O-O,e4,Nd7,e5,dxe5,fxe5,Nd5,Ne4,f5,exf6,N7xf6,Nfg5,Qd7,Bd2,Rae8,Rf3,e5,dxe5,Rxe5,Raf1,h6,Nxf6+,Bxf6,Ne4,Kg7,Qf2,Re6,Nxf6,Rexf6,Qh4,h5,Qg5,Qe6,Qh6+,Kg8,Bxg6,Qe7,Rxf6,Rxf6,Rxf6,Nxf6,Bf5', 'Qc5+,Be3,Qxf5', 'https://lichess.org/training/uXR2e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uXrGw', 'Classical', 'Sahituv', 1812, 'DMINDIA', 1815, 'd4,d5,c4,Nf6,Nc3,e6,a3,Be7,Bf4,Nbd7,e3,a6,Nf3,h6,b3,Nh5,Bg3,Nxg3,hxg3,Nf6,Bd3,c6,Ne2,Qc7,c5,b6,b4,a5,Rc1,b5,Ne5,axb4,axb4,Ra4,Qd2,Bd7,Bc2,Ra2,Qd3,Ne4,f3,Rxc2,Qxc2,Ng5,Ra1,Qb7,Nxd7,Kxd7,O-O,f5,Ra3,Ke8,Rfa1,Kf7,Nf4,Rb8,g4,g6,gxf5,gxf5,Ra7,Qc8,R1a6,Rb7,Qa2,Rb8,Nd3,Kf6,Ne5,Bd8,Nd7+,Kg6,Nxb8,Qxb8,Rxc6,Qg3,Raa6', 'Nxf3+,Kf1,Qe1#', 'https://lichess.org/training/uXrGw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uXU38', 'Blitz', 'chirag54321', 2189, 'drahmedsalem', 2209, 'e4,c5,Nc3,g6,Bc4,Bg7,Nge2,Nc6,d3,Nf6,O-O,O-O,f4,e6,Ng3,d5,exd5,exd5,Bb3,Nd4,Bd2,b6,Nce2,Nxb3,axb3,d4,f5,Bb7,fxg6,fxg6,Bg5,Qd5,Ne4,Nxe4,Rxf8+,Bxf8,dxe4,Qxg5,Ng3,Qe3+,Kh1,Bd6,Qg4,Re8,Nh5,Kh8', 'Qd7,gxh5,Qxe8+,Kg7,Qd7+', 'https://lichess.org/training/uXU38');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uXUzx', 'Rapid', 'ChretienCathal', 1931, 'kemo224', 1874, 'e4,d5,exd5,e6,dxe6,Bxe6,d4,Nf6,Bd3,Bd6,Qe2,Nc6,Nf3,O-O,O-O,Bg4,Be3,Qc8,c3,h6,Nbd2,Ne7,Qd1,Ned5,Qb3,Rb8,Bc4,Qf5,h3,Bxh3,gxh3,Qxh3,Bxd5,Ng4,Rfe1,Rfe8,c4,Rxe3,Rxe3', 'Bh2+,Nxh2,Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/uXUzx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UXw97', 'Blitz', 'PapaBear1975', 1859, 'franki561964', 1869, 'd4,d5,g3,Nf6,Bg2,e6,Nf3,c5,O-O,Nc6,e3,Be7,Bd2,O-O,c4,dxc4,Nc3,cxd4,exd4,Nxd4,Nxd4,Qxd4,Qc2,Rb8,Rad1,e5,Be3,Qg4,Bxa7,Ra8,Be3,Bf5,Qc1,e4,Nd5,Nxd5,Rxd5,Bf6,Bd4,Bxd4,Rxd4,Rxa2,Rxc4,Bg6,Re1,Raa8,Re3,Rfc8,b3,Rd8,Re1,b5,Rb4,Rac8,Qe3,Qh5,Bxe4,Re8,Qd3,Bxe4,Rbxe4,Red8', 'Qxd8+,Rxd8,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/UXw97');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uXWVo', 'Classical', 'gggccc11', 1923, 'radc', 1785, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,c4,Be2,a6,O-O,Be7,b3,b5,bxc4,bxc4,Na4,O-O,c3,f6,Qc2,f5,Rab1,Rb8,Ng5,Bxg5,fxg5,Qa5,Rxb8,Ncxb8,g4,fxg4,Bxg4,Rxf1+,Kxf1,Nf8,Nc5,Nc6,h4,Ne7,h5,g6,h6,Nc6,Qf2,Qc7,Bc1,Ne7,Qf6,Nf5,Bxf5,exf5,Ba3,Qf7,Nxa6', 'Qxf6,exf6,Bxa6,Bxf8,Kxf8', 'https://lichess.org/training/uXWVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uxx0h', 'Rapid', 'ashokgr17', 1680, 'praveena2007', 1897, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,d4,exd4,cxd4,Nxd4,Qa4+,Bd7,Qd1,Bg4,Qa4+,c6,Nxd4,Bxd4,Bxf7+,Kxf7,Qxd4,Qe7,Nc3,Nf6,Bg5,Rhf8,Bxf6,gxf6,e5,Rg8,exd6,Bh3,g3,Qe6,Rfe1,Qf5,Re7+,Kf8,Qe3,h5,Re1,h4,Re8+,Rxe8,Qxe8+,Kg7,Re7+,Kh8,Qf7,hxg3,hxg3', 'Rxg3+,fxg3,Qf1+,Kh2,Qg2#', 'https://lichess.org/training/uxx0h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UXz3t', 'Blitz', 'hamid-sky', 2021, 'bzzz35', 2016, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,e3,d6,h4,h5,Be2,c5,d5,e6,Qd2,Qa5,O-O-O,exd5,cxd5,Bf5,f3,Nxd5,Nxd5,Qxa2,e4,c4,exf5', 'Qa1+,Kc2,Qxb2#', 'https://lichess.org/training/UXz3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uXz9i', 'Rapid', 'halilibrahimtosya', 1891, 'STUMARI', 1942, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,c4,e6,Nc3,Bb4,Qa4+,Nc6,Ne5,Ne7,cxd5,Qxd5,Be3,f6,Nf3,a6,Be2,b5,Qd1,h6,O-O,g5,a3,Bxc3,bxc3,Be4,a4,b4,c4,Qd6,h3,f5,Ne5,Nxe5,dxe5,Qxd1,Raxd1,Nc6,f3,Bc2,Rd2,b3,Bd1,Bxd1,Rfxd1,Nxe5,c5,O-O,Rd6,Kf7,Rb1,Nc4,Rd7+,Kg6,Bd4,e5,Bc3,Rab8,Kf2,e4,fxe4,fxe4+,Ke2,Rf7,Rd4,Na3,Rbd1,e3,Rd6+,Kh7,Rd7,Kg8,Bb2,Nc4,Rd8+,Rxd8,Rxd8+,Kh7,Bc3,Rf2+,Kd3,Nb2+,Bxb2', 'Rd2+,Kxe3,Rxd8', 'https://lichess.org/training/uXz9i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UY2XK', 'Blitz', 'Meatshield262', 1612, 'Mrymzz', 1613, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,c6,Bd3,Bg4,Be2,e6,h3,Bh5,Bd2,Bd6,Ne4,Qd8,Nxf6+,gxf6,O-O,Nd7,Nh4,Bxe2,Qxe2,Qe7,Rfe1,O-O-O,d5,cxd5,a3,f5', 'Nxf5,exf5,Qxe7,Bxe7,Rxe7', 'https://lichess.org/training/UY2XK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uY6vd', 'Rapid', 'andmagical', 1967, 'Blueshorizon', 1954, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Qe7,Qe2,Ng8,Nf3,d6,d4,Bg4,Bxf4,Nc6,O-O-O,O-O-O,Nd5,Qe6,Qb5,dxe5,Bc4,exf4,Nb6+,axb6,Bxe6+,Bxe6', 'd5,Bxd5,Rxd5', 'https://lichess.org/training/uY6vd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uy9FC', 'Rapid', 'Glay', 1661, 'ronaldo91', 1881, 'c4,Nf6,Nf3,g6,Nc3,Bg7,d4,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Bb5+,Nc6,h3,cxd4,cxd4', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/Uy9FC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uYAf9', 'Blitz', 'freddieGM', 1967, 'MathsBzh', 2001, 'e4,e5,f4,Nc6,Nf3,f5,exf5,e4,Ne5,Nf6,d4,d5,c4,Bxf5,cxd5,Qxd5,Bc4,Qxd4', 'Bf7+,Ke7,Nxc6+,bxc6,Qxd4', 'https://lichess.org/training/uYAf9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UYcgI', 'Rapid', 'chesspianoplayer2008', 2160, 'Lzikon', 2310, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,h3,c6,Qf3,Re8,Bg5,Bd6,Rfe1,Be6,Ne2,Be5,c3,h6,Bh4,Rb8,Rab1,a5,Nd4,Bxd4,cxd4,Rb4,Bxf6,Qxf6,Qxf6,gxf6,Rec1,Bd7,Rd1,Kg7,Bc2,Reb8,b3,h5,Rd2,h4,Rbd1,Kh6,Re1,Re8,Rxe8,Bxe8,Kf1,Bd7,Ke2,Kg5,Kf3,f5,g3,Rb8,Re2,hxg3,fxg3,Be6,Re5,Rb4,Ke3,Kg6,g4,Kf6,Bxf5,c5,Bxe6', 'cxd4+,Kd2,Kxe5', 'https://lichess.org/training/UYcgI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uYcGJ', 'Blitz', 'IM MeneerMandje', 2355, 'FurnitureMan', 1946, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e6,g4,d5,exd5,Nxd5,Nde2,Bb4,Bg2,Nxc3,Qxd8+,Kxd8,Nxc3,Bxc3+,bxc3,Nc6,Ba3,Kc7,O-O,e5,f4,f6,fxe5,Nxe5,Rab1,Rb8,Rbd1,Rd8,Rxd8,Kxd8,g5,Nc4,Bf8,Ne3,gxf6,gxf6,Rxf6,Nxg2,Kxg2,Bd7,a3,Bc6+,Kg3,Be4,Rf2,Rc8,Bb4,Kd7,Rd2+,Ke6,Kf4,Bg6,Rd6+,Kf7,Rd7+,Kg8,Rxb7,Rc4+,Ke5,Re4+,Kd5,Re2,Bc5', 'Be4+,Kc4,Bxb7', 'https://lichess.org/training/uYcGJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uYDBR', 'Blitz', 'Berserker00', 1639, 'no_means_yes', 1643, 'd4,a5,Nf3,Ra6,Bf4,Rf6,e3,d6,h3,Nc6,g4,e5,dxe5,Nxe5,Bg5', 'Nxf3+,Qxf3,Rxf3,Bxd8,Kxd8,Nd2,Rf6', 'https://lichess.org/training/uYDBR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uYeKm', 'Rapid', 'ShawnStrausser', 1691, 'Green_Star', 1670, 'e4,e6,d4,d5,exd5,Qxd5,Nc3,Bb4,a3,Bxc3+,bxc3,Nf6,c4,Qe4+,Be2,Qxg2,Bf3,Qg6,Ne2,Qf5,Ng3,Qa5+,Bd2,Qb6,d5,exd5,cxd5,Qd4,Qe2+,Kf8,Bb4+,Kg8,Nf5,Qxa1+,Kd2,Qa2,Ne7+,Kf8,Nxc8+,Kg8,Ne7+,Kf8,Ng6+,Kg8,Nxh8,Kxh8,d6,cxd6,Bxb7,Nbd7,Bxa8,d5,Bxd5', 'Qxd5+,Qd3,Qxh1', 'https://lichess.org/training/uYeKm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uYeor', 'Rapid', 'asteriks111', 1641, 'edwardsh12', 1655, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Nf3,e6,Be2,cxd4,cxd4,g6,O-O,Bg7,Nc3,Nge7,Be3,a6,b3,Qa5,Bd2,Qb6,Na4,Qd8,b4,O-O,Nb6,Qxb6,a4,Nxd4,Nxd4,Qxd4,a5,Bxe5,Qc2,Qxa1,Rxa1,Bxa1,Qc7,Nc6,Bh6,Be5,Qb6,Rd8,g3,Bd7,Qxb7,Nd4,Bxa6,Bc6,Qb6,Nf3+,Kf1,Be8,b5,Bd4,Qc7,Rd7,Qf4,Nxh2+,Kg2,e5', 'Qf6,e4,Qxd4', 'https://lichess.org/training/uYeor');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UYgC2', 'Classical', 'D_Niteesh', 1678, 'Threepointonefour', 1623, 'd4,e6,e4,c5,Nf3,cxd4,Nxd4,d6,Nc3,e5,Nf3,Bd7,Bb5,Be7,Bc4,Nf6,O-O,O-O,h3,a6,a4,Nc6,Bg5,Nh5,Bxe7,Nxe7,Ng5,Nf4,Nxf7,Rxf7,Bxf7+,Kxf7,Ne2,Nxe2+,Qxe2,Bc6,Qf3+,Kg8,Rad1,Qc7,b3,Rf8,Qc3,d5', 'exd5,Nxd5,Rxd5', 'https://lichess.org/training/UYgC2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UYJE1', 'Rapid', 'nsoorya2020', 1817, 'wridtw', 1828, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Qf3,Nf6,e5,dxe5,Bb5,Bd7,Bxc6,Bxc6,Qxc6+,Nd7,Nc3,g6,Nd5,Rc8,Qa4,Ra8,Qe4,Rc8,c3,f5,Qa4,Ra8,Bg5,h6,Be3,e6,Nb4,Bxb4,cxb4,a6,Rd1,f4,Bb6,Qc8,O-O,Ke7,Rc1,Qb7,Rfd1,Nxb6,Qa5,Rhc8,b5,Rxc1,Rxc1,e4,bxa6,Rxa6,Qb4+,Kf7,Qd6,Nc4', 'Qxf4+,Kg8,Rxc4', 'https://lichess.org/training/UYJE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uyK7k', 'Rapid', 'riyanto', 1988, 'beks3335', 2044, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Na4,Bb6,Nxb6,axb6,Bc4,d6,c3,h6,d4,exd4,cxd4,Nf6,O-O,O-O,Re1,Nxe4,Rxe4', 'd5,Bxd5,Qxd5', 'https://lichess.org/training/uyK7k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uykcR', 'Blitz', 'capilar001', 1535, 'Beatnikbrew', 1577, 'd4,d5,e3,Nf6,Nf3,e6,Nc3,c5,dxc5,Bxc5,Be2,O-O,O-O,Nc6,Bd2,e5,Bb5,e4,Ne5,Nxe5,Na4,Bd6,Qe2,a6,Bxa6,Rxa6,Nc3,Bg4,f3,exf3,gxf3,Bh3,Rfd1,Nh5,Nxd5,Qg5+,Kh1,Ng3+,hxg3,Qxg3,f4,Nf3,Bc3,Bg2+,Qxg2', 'Qh4+,Qh3,Qxh3#', 'https://lichess.org/training/uykcR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UylQX', 'Rapid', 'Dertosa', 1730, 'NaotoMatsui', 1894, 'e4,d5,exd5,Nf6,Bc4,a6,Nc3,b5,Bb3,Bb7,Nf3,Nbd7,d3,Nc5,O-O,Nxb3,axb3,Nxd5,Ne4,e6,c4,Nb4,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/UylQX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uymEG', 'Classical', 'streets112', 1802, 'mosteirin', 2043, 'c4,c6,Nf3,d5,cxd5,cxd5,g3,Nf6,Bg2,Nc6,d4,Bf5,O-O,e6,Qa4,Bd6,Ne5,Bxe5,dxe5,Nd7,b4,O-O,Bb2,Ncxe5,Nd2,Nb6,Qb3,Nbc4,Nxc4,Nxc4,Bc3,Rc8,Rfd1,Qb6,e3,Nxe3', 'Bd4,Nxd1,Bxb6', 'https://lichess.org/training/uymEG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uymgY', 'Blitz', 'jamie-chess', 1685, 'Svensl', 1687, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,c6,Bg5,h6,Bh4,Bf5,Bd3,Bxd3,Qxd3,Be7,O-O,O-O,Rfe1,Nbd7,h3,Bd6,Re2,Qc7,Rae1,Rfe8,a3,Kf8,Nd2,Rxe2,Rxe2,g5,Bg3,Bxg3,fxg3,Nh5,Kh2,Re8', 'Rxe8+,Kxe8,Qe2+,Kf8,Qxh5', 'https://lichess.org/training/uymgY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UYniZ', 'Blitz', 'SchachAttacker', 2161, 'ClubBacau0735520875', 2004, 'c4,g6,g3,c6,Bg2,d5,cxd5,cxd5,d4,Bg7,Nc3,Nf6,Nf3,O-O,O-O,Nc6,Re1,Ne4,e3,b6,Nxe4,dxe4,Nd2,f5,Qa4,Bb7,b3,e5,dxe5,Bxe5,Rb1,Kg7,Nc4,Bf6,Ba3,Be7,Red1,Qc7,Nd6,Na5,Bb2+,Kh6,Nxb7,Nxb7,Rd7,Qc2,Rbd1,Nc5,Qd4', 'Bf6,Qxf6,Rxf6,Bxf6,Nxd7', 'https://lichess.org/training/UYniZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uYNpO', 'Rapid', 'MSSeva', 1624, 'snzlk', 1756, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,h6,Nh3,Qd4,Nc3,Bc5,O-O,Bxh3,gxh3,Bb4,a3', 'Bxc3,dxc3,Qxa4', 'https://lichess.org/training/uYNpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uyOxu', 'Classical', 'aandy14696tw', 1620, 'Fasolaki', 1617, 'e4,c5,Nf3,Nc6,d4,Nf6,dxc5,Nxe4,b4,Nxb4,a3,Na6,Bxa6,bxa6,Qd4,f5,Qd5,Qa5+,Nbd2,Qxc5,Qxa8', 'Qxf2+,Kd1,Nc3#', 'https://lichess.org/training/uyOxu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uyPhV', 'Blitz', 'jeebayv', 1518, 'L_27', 1532, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,g6,Be3,Bg7,Qd2,O-O,Bh6,Bg4,Bxg7,Kxg7,h3,Bxf3,gxf3,Nc6,Nc3,Nxd4,O-O-O,Nxf3,Qf4,d4,Nb5,c6,Nc7,Rc8,Qxf3,Qxc7,h4,b5,h5,a5', 'h6+,Kg8,Qxf6,Qf4+,Qxf4', 'https://lichess.org/training/uyPhV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UYRht', 'Rapid', 'Vinczz', 1808, 'zahid_015', 1761, 'e4,e5,f4,d5,exd5,Qxd5,Nc3,Qd6,d3,Nf6,Qe2,Bg4,Nf3,Nbd7,fxe5,Bxf3,Qxf3,Qxe5+,Be2,O-O-O,Bf4,Qe6,Nb5,Qb6,Bxc7,Qxb5,Bxd8,Qxb2,Bxf6,Bb4+,Kf2,Bc5+,Kg3,Bd6+,Kh3,gxf6,Rab1,Qe5,Qxb7+,Kd8,Bg4,Qe3+,g3,Qh6+,Kg2,Qd2+,Kg1', 'Bc5+,d4,Bxd4+,Kf1,Qf2#', 'https://lichess.org/training/UYRht');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UYSiY', 'Blitz', 'IM Sergoy45', 2557, 'Mychessme', 2047, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Nbd2,Bg4,a3,Qe7,b4,O-O-O,Bb2,Nxe5,Nxe5,Qxe5,h3,Bh5,g4,Bg6,Nf3,Qe4,Bxd4,c5,Bg2,cxd4,O-O,d3,exd3,Qxd3,Qa4,Qd6,Qxa7,Qb8,Qa4,Bd6,c5,Bc7,c6,bxc6,Qxc6,Ne7,Qc4,Bd3,Qxf7,Nc6,Qe6+,Rd7,Qxc6,Bxf1,Rxf1,Qb6,Qa8+,Bb8,Rc1+,Rc7,Re1,Rd8,Qe4,Ba7,Re2,Rf8,Ne5,Rc1+,Kh2,Bb8,Qd5,Qd6,Qb7+,Kd8,f4,Rxf4,Rd2,Rd4', 'Rxd4,Qxd4,Qxb8+', 'https://lichess.org/training/UYSiY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uYTDk', 'Rapid', 'Prometeo88', 1715, 'darwinhugo', 1758, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Bf5,Nc3,e6,Nf3,Bb4,O-O,O-O,Re1,Ne4,Bd2,Nxd2,Qxd2,Bg4,Ne5,Qh4,Nxg4,Qxg4,a3,Bd6,Be2,Qh4,h3,f5,Nb5,Nd7,Nxd6,cxd6,Rec1,Nf6,Bf3,Rad8,Rc7,e5,dxe5,dxe5,Qb4,e4,Be2,Nd5,Qb3,Kh8,Rxb7,f4,Rd1,f3,Bf1', 'fxg2,Bxg2,Qxf2+,Kh1,Nxe3', 'https://lichess.org/training/uYTDk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uytgm', 'Rapid', 'Pigwas', 1757, 'raphdub2', 1821, 'e4,e6,e5,d5,d4,c5,c3,Nc6,Nf3,Qb6,Nbd2,cxd4,cxd4,Nxd4,Qa4+,Nc6,Bb5,Bc5,b4,Bxf2+,Kd1,Bd7,Nb3,Nge7,Nc5,Bxc5,bxc5,Qxc5,Ba3,Qb6,Nd4,a6,Bxe7,Kxe7,Nxc6+,Bxc6,Qb4+,Ke8,Bxc6+,Qxc6,Rc1,Qd7,Qd6,Qxd6,exd6,Kd7,Rc7+,Kxd6,Rxb7,Rac8,Rxf7,g6,Re1,h5,Rf6,Rhe8,Rxg6,Rc4,Rh6,Rd4+,Kc2,Rc8+,Kb3,Rd3+,Kb2,Rd2+,Kb3,Re8,Rxh5,e5,g3,e4,g4,a5,g5,Rb8+,Kc3,Rd3+,Kc2,Rc8+,Kb2,a4,Rh6+,Ke5,g6,a3+,Ka1,Rg8,Rf1,e3,Rh5+,Kd6,Rb1,Rc8,Rh6,e2,g7+,Kd7,Rb7+,Rc7,g8=Q,Rd1+,Rb1', 'Rxb1+,Kxb1,e1=Q#', 'https://lichess.org/training/Uytgm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uYu6v', 'Classical', 'Failalarm', 1680, 'rasprava', 1652, 'd4,d5,c4,dxc4,e3,e6,Bxc4,Bb4+,Bd2,Bxd2+,Nxd2,Nf6,Ngf3,O-O,O-O,b6,Rc1,Bb7,Qc2,Nc6,Bb3,Na5,Qxc7,Rc8,Qxd8,Rfxd8,Bc2,Nc4,b3,Nxd2,Nxd2,Rc7,Bd3,Rdc8,Rxc7,Rxc7,Nc4,Ba6,Rd1,Nd5,h3,Nc3,Rd2,g6,Rc2,Nd5,Kf1,Nb4,Rd2,Bb7,g3,b5,Nd6,Nxd3,Rxd3,Rc1+,Ke2,Ba6,Kd2,Ra1,b4,Rxa2+,Ke1,Rb2', 'Ra3,Rxb4,Rxa6', 'https://lichess.org/training/uYu6v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UyuzK', 'Rapid', 'BogomilTodorov', 1935, 'evyb', 1885, 'b4,b6,Bb2,Bb7,e3,e6,Nf3,Nf6,a3,Bxf3,Qxf3,Nc6,b5,Ne7,Bxf6,gxf6,Qxf6,Rg8,c4', 'Bg7,Qf3,Bxa1', 'https://lichess.org/training/UyuzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UyvTP', 'Rapid', 'Beauvain', 2430, 'Chessy_Chames', 2394, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,O-O,Nc2,Bg5,a4,bxa4,Rxa4,a5,Bc4,Rb8,b3,Kh8,O-O,f5,exf5,Bxf5,Nce3,Bxe3,Nxe3,Bg6,Ra2,e4,Rd2,Ne5,Rxd6,Qg5,Be2,Nf3+,Bxf3,exf3,Rd5,Qf6,Qxf3,Qxc3,Rb5,Bd3,Nd5,Qc2,Rxb8,Rxb8,Rd1', 'Be2,Qxe2,Qxe2', 'https://lichess.org/training/UyvTP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uYXax', 'Blitz', 'DOYGARS', 1616, 'Ivanubushaev', 1608, 'd4,d5,Bf4,Bf5,c4,c6,Nc3,Nf6,Nf3,h6,e3,e6,Rc1,Be7,Qb3,Qc8,cxd5,exd5,Ne5,O-O,h4,Nbd7,Nxd7,Qxd7,f3,b6,g4,Bh7,g5,Nh5,gxh6,Nxf4,hxg7,Kxg7,exf4,Qf5,Rg1+,Kh8,Ne2,Bxh4+,Kd2,Rg8,Rxg8+,Rxg8,Rxc6,Bf6,Qa3,Bxd4', 'Nxd4,Qxf4+,Qe3,Qxe3+,Kxe3', 'https://lichess.org/training/uYXax');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uyzjv', 'Blitz', 'gzivan65', 2365, 'Bruazetti', 2449, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Nh6,Bd3,cxd4,cxd4,Nf5,Bxf5,exf5,Nc3,Be6,O-O,Be7,h4,O-O,b4,a5,b5,Nb8,Qd3,a4,Bg5,Bxg5,Nxg5,Nd7,Rab1,Rfc8,Rb4,Rc7,Nxa4,Qa5,Rfb1,Rac8,b6,Rc4,Nc5,Nxc5,dxc5,Qxc5,Nxe6,fxe6,Rb5,Rc1+,Rxc1,Qxc1+,Kh2,Qf4+,Qg3,Qxg3+,Kxg3,Rc3+,Kf4,Rxa3,Rc5,Ra4+,Kg3,d4,Rc7,d3,Rd7,Rb4,Rxd3,Rxb6,Rd7,h6,h5,Rb5,f4,Rb3+,Kf2,Rb2+,Kf3,Rb3+,Kf2,Rb6,Ke3,Kh7,Kd4,Rb4+,Ke3,Rb3+,Kf2,Kg8,Rd6,Kf7,Rd7+,Kf8,Rd6,Ke7,Rd2,Rc3,Rb2,Rc7,Ke3,Kd7,Kd4,Kc8,g4,Rc6,gxf5,exf5,Kd5,Kc7,e6,Rc5+,Kd4,Rc6,Ke5,b6,Kxf5,Kd8,Re2,Ke7,Re5,Rc5,Rxc5,bxc5,Ke5', 'c4,Kd4,Kxe6,Kxc4,Kf5,Kd5,Kxf4', 'https://lichess.org/training/uyzjv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZ0yZ', 'Blitz', 'KingOfOmashu1', 2305, 'FM Mirzaad786', 2402, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Ne2,f5,Nd2,Bd7,f4,Qb6,Nf3,Rc8,g3,a5,Bg2,cxd4,Nexd4,Bc5,O-O,Nge7,Kh1,O-O,Rb1,Bxd4,Nxd4,Nxd4,cxd4,Bb5,Rf2,Rc4,Be3,Rfc8,Bf1,Rb4,a3,Bxf1,axb4,Bh3,bxa5,Qxa5,Rc2,Rc4,b3,Rc6,Rxc6,Nxc6,Qc2,Bg4,Kg1,Bf3,b4,Qb5,Qf2,Be4,Rb2,Qc4,h4,Nxb4,Qf1,Qc3,Qf2,Nd3,Qd2', 'Qxb2,Qxb2,Nxb2', 'https://lichess.org/training/UZ0yZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uz1yr', 'Rapid', 'acadx', 1753, 'Khan_Li', 1773, 'e4,c5,Nf3,Nc6,Bc4,g6,d4,cxd4,Nxd4,Bg7,Be3,e6,O-O,Nge7,c3,O-O,Nd2,Qc7,N2f3', 'Nxd4,cxd4,Qxc4', 'https://lichess.org/training/uz1yr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uz25E', 'Rapid', 'Beniya_Igor', 1725, 'kostopge', 1731, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,O-O,a6,Bb3,O-O,Nxe5,Nd4,Nd3,Nxb3,axb3,Bd4,Qe2,d6,Ra4,Be5,Nd5,Bd7,Ra3,Nxd5,exd5,Re8,Nxe5,Rxe5,Qd3,Bf5,Qc4,b5,Qd4,c5,dxc6,Re4,Qc3', 'b4,Qf3,bxa3', 'https://lichess.org/training/Uz25E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uZ5SY', 'Rapid', 'pjesak87', 2081, 'mohammad_rahmani_74', 2126, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d6,e4,O-O,h3,Nc6,Be3,e5,d5,Ne7,g4,Ne8,g5,f5,gxf6,Nxf6,c5,a6,Be2,Nh5,Ng5,Nf4,Bg4,Ng2+,Ke2,Nxe3,fxe3,dxc5,d6,Qxd6,Qb3+,Kh8,Nf7+,Rxf7,Qxf7,Bxg4+,hxg4,Rf8', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/uZ5SY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZ7kI', 'Rapid', 'unclekotsos', 2000, 'blablub', 2304, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d6,h3,b6,Nbd2,c5,Be2,Bb7,O-O,O-O,c3,Nbd7,Qc2,Qc7,e4,cxd4,Nxd4,Nxe4,Nb5,Qc6,Nxe4,Qxe4,Qxe4,Bxe4,Rfe1,Bf6,Rad1,Bc6,Bg3,Rfc8,Rd2,Nc5,f3,a6,Na3,b5,Nc2,Na4,Nd4,Bd7,Bf2,Rab8,Bd1,Kg7,g4,h6,Kg2,Rb7,Bc2,Nxb2,Be4,Nc4,Bxb7,Rb8,Rde2,Rxb7,f4,Rc7,Kg3,Nb6,Re3,Na4,Nf3,Rxc3,g5,hxg5,fxg5,Be5+,Nxe5,dxe5,Kg2,Be6,Rxe5,Rc2,R1e2,Rxe2,Rxe2,Nc3,Rc2,Nxa2,Rc7,Kf8,Bc5,b4,Rxe7,Kg7,Ra7,Bd5+,Kg3,Nc3,Bd4+,Kf8,Rc7', 'Ne2+,Kf2,Nxd4', 'https://lichess.org/training/UZ7kI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZ8y0', 'Rapid', 'Pervach', 1968, 'mcelsouza', 2081, 'd4,Nf6,e3,e6,a3,c5,dxc5,Bxc5,b4,Be7,Bb2,O-O,Nf3,b6,Bd3,Bb7,O-O,Qc7,Nbd2,d6,c4,Nbd7,Rc1,Rac8,h3,a6,Nd4,Ne5,Be2,Rfd8,b5,axb5,cxb5,Qd7,N4b3,Rxc1,Nxc1,Rc8,Bxe5,dxe5,Ncb3,Bxa3,Qa1,Bd6,Nc4,Be7', 'Nxb6,Qc7,Nxc8', 'https://lichess.org/training/UZ8y0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZ9UY', 'Rapid', 'Hh66', 1783, 'Rackovic', 1769, 'e4,e5,f4,d5,fxe5,Qh4+,Ke2,Qxe4+,Kf2,Bc5+,d4,Bxd4+,Kg3,Bxe5+,Kf2,Qf5+,Ke1,Qe4+,Ne2,Bg4,Nc3,Bxc3+,bxc3,Bxe2,Bxe2,Qxg2,Bf3,Qh3,Qxd5,Qe6+', 'Qxe6+,fxe6,Bxb7', 'https://lichess.org/training/UZ9UY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UzauQ', 'Classical', 'xolthol', 1620, 'Ciocirlan', 1722, 'd4,Nf6,Nf3,d5,g3,e6,Bg2,c5,O-O,Nc6,c3,b6,Bd2,Bd6,b4,cxd4,cxd4,Bxb4', 'Bxb4,Nxb4,Qa4+,Nc6,Qxc6+', 'https://lichess.org/training/UzauQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZAX4', 'Rapid', 'NOVATO666', 1687, 'remchene', 2095, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,Nc3,h6,Nd5,d6,Nxe7+,Qxe7,a3,Bg4,h3,Bh5,Be3,a6,c3,Nd8,d4,Nxe4,Be2,exd4,Nxd4,Bxe2,Qxe2,Ne6,Rfe1,Rae8,Bxh6,Nxd4,cxd4,gxh6,Qg4+,Kh8,f3,f5,Qh5,Qg7,fxe4,Rxe4,Rxe4,fxe4,Re1,Qxd4+,Kh1,Qf6,Rxe4,Kg7,Rg4+,Kh7,Rc4,c6,Rb4,b5,Rg4,Qxb2', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/UZAX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZc8R', 'Bullet', 'trapthem', 1550, 'varianteascari', 1564, 'Nc3,d5,d3,c5,Bd2,Nc6,e3,Nf6,Qe2,a6,O-O-O,b5,f3,b4,Nb1,a5,g4,a4,d4,c4,e4,b3,a3,dxe4,fxe4,Bxg4,Nf3,Nxd4,Qe3,Bxf3,Bxc4,Bxh1,Bc3,Nxc2,Rxd8+,Rxd8,Bb5+,Nd7,Bxd7+,Rxd7,Qb6,e6,Nd2,Be7,Qb8+,Rd8,Qa7,O-O,Qxa4,Bg5,Qxb3,Ne3,Kb1,Bg2,Nc4,Rb8,Qa4,Nxc4,Qxc4,Rfc8,Qd3,Bf6,Qg3,Bxe4+,Ka2,Bxc3,b4,Bf6,h4,Rc2+,Kb3,Rbc8,h5,Bd5+,Ka4,R2c3,h6,Bc6+,b5,Rc4+,Ka5,Ra8+,Kb6,Bd4+,Kc7,Be4+,Kd6,Ra7,b6,Ra6,Kd7,Rxb6,a4,Ra6', 'Qb8+,Rc8,Qxc8#', 'https://lichess.org/training/UZc8R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UzD2N', 'Rapid', 'anpiven58', 1954, 'czosnek16', 1857, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,c4,e5,Nf3,Nc6,Nc3,Be7,h3,O-O,O-O,Nd7,Be3,Nc5,Be2,f5,exf5,Bxf5,Bxc5,dxc5,Nd5,Bd6,Bd3', 'e4,Bxe4,Bxe4', 'https://lichess.org/training/UzD2N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZeLk', 'Blitz', 'cokolwiek12345', 1536, 'Jackch32', 1536, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,d3,Bg4,c3,Qf6,Nbd2,Nge7,b4,Bb6,a4,a6,a5,Ba7,b5,axb5,Bxb5,O-O,Rb1,Rfb8,Bxc6,bxc6,Rxb8+,Rxb8,Qa4,Qg6,Nh4,Qg5,g3,Bh3,Re1,Ng6,Kh1,Nxh4,gxh4,Qxh4,Rg1,Qxf2,Rg3,h5,d4,exd4,Nf3,dxc3,Qxc6,Rb1,Qa8+,Kh7', 'Ng5+,Kg6,Nxh3+,Qxg3,hxg3', 'https://lichess.org/training/UZeLk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZESh', 'Blitz', 'poromc1', 2060, 'CathGorm', 2159, 'e4,Nc6,Nf3,f5,exf5,d5,Bb5,Bxf5,Bxc6+,bxc6,O-O,e5,d3,Bd6,Re1,e4,dxe4,Bxe4,Nc3,Nf6,Bg5,O-O,Nxe4,dxe4,Rxe4', 'Bxh2+,Nxh2,Qxd1+,Rxd1,Nxe4', 'https://lichess.org/training/UZESh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uZFwz', 'Rapid', 'YoMamaSoFat', 1719, 'SmokingCastle', 1714, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Nxe5,Nd6,O-O,Nxc4,Nxc4,d5,Ne5,Qf6,Nc3,c6,d3,Be6,Ng4,Qg6,Ne5,Qf5,d4,Bd6,Qe2,O-O,Nd1,Re8,Ne3,Qf6,c3,Bxe5,dxe5,Qxe5,Qf3,Nd7,Nc2,Qf6,Qg3,c5,Bf4,Qf5,Ne3,Qe4,Rae1,Nf6,Ng4,Qf5', 'Nh6+,Kh8,Nxf5', 'https://lichess.org/training/uZFwz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uzg7x', 'Rapid', 'odradek78', 1763, 'Pink_Flamingo', 1831, 'd4,d5,e3,Nc6,Bb5,Bd7,Qf3,Nxd4', 'Bxd7+,Qxd7,exd4', 'https://lichess.org/training/uzg7x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uZgxg', 'Classical', 'ekrem1168', 1917, 'tai12_koval', 1985, 'e4,c5,Nf3,e6,d4,cxd4,c3,dxc3,Nxc3,Qc7,Bd3,a6,a4,Nf6,O-O,Bd6,h3,Nc6,Qe2,Nb4,Bc4,b6,Rd1,Bb7,Rxd6,Qxd6,e5,Bxf3,gxf3,Qd4,exf6,Qxf6,Bxa6,Nxa6,Ne4,Qd4,Ra3,d5,Qb5+,Ke7,Be3,Qd1+,Kg2,dxe4,Qxb6,Qxf3+,Kh2,Kf6', 'Bd4+,Kg6,Rxf3', 'https://lichess.org/training/uZgxg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uZGXZ', 'Rapid', 'ligasx', 1631, 'vano55', 1631, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bb5+,c6,Ba4,Bg4,O-O,Qh5,Bb3,Bxf3,gxf3,e5,d4,Nbd7,dxe5,O-O-O,f4,Nxe5', 'Qxh5,Nxh5,fxe5', 'https://lichess.org/training/uZGXZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZhBy', 'Rapid', 'Destronadors', 1915, 'Kraparov75', 1982, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Bd3,Nc6,c3,Bg4,h3,Bh5,O-O,e6,Re1,Bd6,Bg5,O-O,Nbd2,Re8,g4,Bg6,Bxg6,hxg6,Ne5,Be7,Ndf3,Ne4,Bxe7,Qxe7,Rc1,Nxe5,dxe5,a6,c4,Red8,cxd5,exd5,Qb3,b5,Nd4,Qh4,Qe3,Ng5,Rc3,Rac8,Rec1,Rxc3,Rxc3,Ne4,Rd3,Rc8,Kg2,Qe7,Nf3,Rd8,Nd2,Nxd2,Rxd2,Qb7,Rd4,a5,e6,Re8,exf7+,Qxf7,Qd2,b4,Rxd5,Qb7,Kg3,Qc7+,f4,Qb6,Rd7,Re3+,Kh4', 'Qf6+,g5,Qxf4#', 'https://lichess.org/training/UZhBy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uZHeJ', 'Rapid', 'ArthurKnight', 1866, 'thevag', 1824, 'd4,Nf6,e3,g6,Nf3,Bg7,Nbd2,d6,b3,O-O,Bb2,a5,c4,c6,Be2,Bg4,O-O,Nbd7,h3,Bxf3,Nxf3,Qc7,Rc1,e5,d5,Nc5,dxc6,bxc6,Ba3,Nce4,Nd2,Rfd8,Bf3,Ng5,Qc2,Ne8,Be2,Ne6,Ne4,f5,Nd2,Nf6,Rfd1,Bf8,Bb2,Bg7,e4,f4,f3,g5,Nf1,Nh5,Kh2,Qb6,Bd3,Nf6,Qe2,c5,Bc3,Nd4,Bxd4,cxd4,g3,Nh5,g4,Nf6,Qd2,a4,Bc2,axb3,Bxb3,Rdc8', 'c5+,Qxb3,axb3', 'https://lichess.org/training/uZHeJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZhST', 'Blitz', 'OrlandoFDZ', 2032, 'FM Colombiano07', 2393, 'd4,Nf6,Bg5,e6,Nd2,d5,e3,Be7,f4,Ne4,Bxe7,Qxe7,Nxe4,dxe4,c3,O-O,Ne2,b6,Ng3,Bb7,Bc4,Nd7,O-O,Nf6,f5,e5,Nh5,Rad8,Nxf6+,Qxf6,Qg4,exd4,exd4,c5,dxc5,bxc5,Rae1,Rd2,Rf2,Rxf2,Kxf2,Bc6,Qf4,Re8,g4,Qh4+,Qg3,Qd8,Qf4,h6,Kg3,Qd7,f6,Bb5,Bxb5,Qxb5,fxg7,Kxg7,Rxe4', 'Qd3+,Qf3,Qxe4,Qxe4,Rxe4', 'https://lichess.org/training/UZhST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uZidQ', 'Rapid', 'gemoll', 1617, 'Miyazaki_Einaudi_Kz', 1634, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,Nh5,Bg3,Nxg3,fxg3,O-O,Bc4,d5,Bd3,Nc6,Nc3,e5,dxe5,Nxe5,Nxe5,Bxe5,O-O,Bg7,Qf3,Be6,Rad1,c5,Be2,d4,exd4,cxd4,Ne4,Qb6,Bd3,Qxb2,Rb1,Qxa2,Rxb7,Qd5,Rb5,Qc6', 'Nf6+,Bxf6,Qxc6', 'https://lichess.org/training/uZidQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UziOi', 'Blitz', 'sithlich', 1704, 'Oleg_2016', 1711, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,e6,Bb5+,Bd7,Bc4,Nf6,O-O,Bb4,Re1,Bxc3,dxc3,O-O,Bg5,Nc6,Bxf6,gxf6,Nd4,Ne5,Qh5,Nxc4,Re4,Ne5,Rh4,Re8,Qxh7+,Kf8,Qh8+,Ke7,Qh6,Rg8,Re1,Rg6,Qf4,Qg8,g3,c5,Nb3,b6,Nd2,Bc6,Nc4,Nf3+,Kf1,Nxe1,Qc7+,Bd7,Qd6+,Kd8,Kxe1,Rc8,b4,Rc6,Qb8+,Rc8,Qxa7,Rg4,Qxb6+,Ke7,Qd6+,Ke8,Nb6,Rd8,bxc5,Rxh4,c6,Re4+,Kf1,Qf8', 'cxd7+,Rxd7,Qxd7#', 'https://lichess.org/training/UziOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZiOt', 'Blitz', 'nimaNazeri', 1959, 'capitanfuturo1', 1790, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,h6,Bh4,d6,Nc3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,g5,Bg3,Qe7,Nd5,Nxd5,Bxd5,c6,c3,cxd5,cxd4,exd4,O-O,dxe4,dxe4,O-O,Qh5,Kg7,h4,f6,hxg5,hxg5,f4,Rh8,Qg4,Qxe4,Qd7+,Kg6,f5+,Kh5,Rf4,Qe3+,Kf1,gxf4', 'Qf7+,Kg4,Qg6#', 'https://lichess.org/training/UZiOt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uzJ9Z', 'Classical', 'maddawg23', 1805, 'warxcc', 1987, 'e4,d5,exd5,Qxd5,Nf3,c6,h3,Bf5,Nc3,Qa5,Bc4,e6,b3,Nd7,O-O,Ngf6,Bb2,Be7,Re1,h6,Ne2,O-O,Nf4,Rad8,Nd4,Bc5,Nxf5,exf5,d4,Bb4,c3,Bxc3,Bxc3,Qxc3,Re3,Qa5,f3,Rfe8,Rxe8+,Rxe8,Qc2,Nb6,Be2,Nbd5,Nd3,Qb6,Nc5,Qb4,Bc4,b5,a3,Re1+,Kf2,Qxc5,dxc5,Rxa1,Bxd5,Nxd5,Qxf5,Ra2+,Kg3', 'Rxg2+,Kxg2,Ne3+,Kf2,Nxf5', 'https://lichess.org/training/uzJ9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZjxh', 'Rapid', 'PerritoChess', 1667, 'Trabizontsi', 2058, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,a6,Ba4,Nf6,Re1,g6,d4,Bg7,Nbd2,O-O,Nf1,Re8,Ng3,b5,Bb3,Bg4,h3,Bxf3,Qxf3,exd4,Bg5,Ne5,Qe2,dxc3,bxc3,h6,Be3,Qe7,Rad1,Ned7,f4,c5,c4,Nxe4,Nxe4,Qxe4,Qd2,Bd4,Bxd4,Qxd4+,Qxd4,Rxe1+,Rxe1,cxd4,cxb5,Nc5,Bd5,Rb8,bxa6,Nxa6,Re7,Nb4,Bxf7+,Kf8,Rd7,d3,Bxg6,Ra8,Rxd6,Rxa2,f5,d2,Bh5,Ke7,Rxh6,Ra1+,Kf2,d1=Q,Bxd1,Rxd1,g4,Rh1,Kg3,Nd3,f6+,Kf7,g5,Rg1+,Kh4,Ne5,Rh7+,Kg6', 'Rg7+,Kf5,f7', 'https://lichess.org/training/UZjxh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Uzl2B', 'Blitz', 'knightmover', 1615, 'RunRabbitRun', 1563, 'e4,d6,d4,e6,c4,Nc6,Be3,Nf6,Nc3,a6,Be2,b6,Nf3,Bb7,O-O,Be7,d5,Ne5,Nxe5,dxe5,Qa4+,b5,cxb5,O-O,bxa6,Bc8,Bb5,exd5,exd5,Bd6,Bc6,Rxa6,Qb5,Bd7,Qb7,Rb6,Bxb6,cxb6,Bxd7,Nxd7,Qc6,Nf6,Nb5,Bc5,a3,Nxd5,b4,Bd4,Nxd4,exd4,Rfd1,Nc3,Rd3,Ne2+,Kf1,Re8,Re1,Qe7,Rxd4', 'Ng3+,Kg1,Qxe1#', 'https://lichess.org/training/Uzl2B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UzMDn', 'Rapid', 'Serayeshi', 1759, 'huevodiestro', 1801, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,c6,Nf3,Bg4,Be2,e6,Be3,Be7,O-O,Nf6,Ne5,Bxe2,Qxe2,O-O,Rad1,Nbd7,Bf4,Nd5,Ng6', 'Nxf4,Nxf4,Qxf4', 'https://lichess.org/training/UzMDn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uzNsK', 'Rapid', 'Bernd010565', 1699, 'Adhi_2006', 1684, 'e4,e5,Bc4,c6,Nc3,Nf6,d3,d5,exd5,cxd5,Bb3,Bb4,Bd2,Bxc3,Bxc3,d4,Bd2,O-O,Bg5,Bf5,Nf3,Nbd7,h3,h6,Bh4,Qa5+,Ke2,Qb6,Re1,Rfe8,Kf1,Nc5,Nxe5,Nxb3,axb3,Nd7,Nf3,Rxe1+,Qxe1,Qe6,Qxe6,Bxe6,Nxd4,g5,Bg3,Nf6,Nxe6,fxe6,Re1,Kf7,c4,Rc8,Be5,Nd7,Bc3,Nc5,Bd4,Nxd3,Re3,Nb4,Bxa7,Rd8,Re2,Ra8,Bd4', 'Ra1+,Re1,Rxe1+,Kxe1,Nc2+,Kd2,Nxd4', 'https://lichess.org/training/uzNsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UzQ73', 'Rapid', 'judii', 1743, 'jorgetx', 1729, 'd4,d5,Bf4,Nf6,Nf3,Bg4,Nbd2,e6,h3,Bxf3,Nxf3,c5,e3,Nc6,c3,h6,Bd3,Bd6,O-O,Bxf4,exf4,O-O,Re1,Qd6,Ne5,cxd4,Nxc6,bxc6,cxd4,Qxf4,Ba6,Qg5,Rc1,Ne4,Rxc6,Qh4,Qc2,Rab8,a3,Qg5,b4,Nd2,Re3,Ne4,Bd3,Nf6,b5,Nh5,a4,Nf4,Rg3,Qh5,a5,Kh8,b6,axb6,Rxb6,Rfc8,Qb1,Rxb6,Qxb6,Nxd3,Rxd3,Qe2,Re3', 'Rc1+,Kh2,Qxf2', 'https://lichess.org/training/UzQ73');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uzQ9Z', 'Blitz', 'newaccounts', 1941, 'nikolaylichess', 2154, 'd4,Nf6,Nf3,e6,e4,d5,e5,Nfd7,Bd3,c5,c3,c4,Bc2,Be7,Be3,f5,Nbd2,O-O,Nf1,b5,Qd2,b4,h4,bxc3,bxc3,Nc6,h5,a5,Ng3,Qe8,Ne2,a4,Nf4,Ba3,Rh3,Nd8,Rg3,Kh8,Ke2,Rb8,Rh1,Rb2,Ng6+,Kg8,h6,hxg6,hxg7,Kxg7,Bh6+,Kf7,Bxf8,Nxf8,Qg5,Qe7,Rh7+,Nxh7', 'Qxg6+,Kf8,Qg8#', 'https://lichess.org/training/uzQ9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZRaN', 'Bullet', 'iceman12345', 1549, 'khvi1998', 1657, 'Nc3,c6,d4,d5,Nf3,Nf6,h3,Bf5,Bg5,Nbd7,e3,Qb6,Rb1,e6,Ne5,Bb4,Nxd7,Nxd7,Qd2,Nf6,Bxf6,gxf6,Bd3,Bxd3,Qxd3,Ke7,O-O,Rag8,Na4,Qc7,c3,Bd6,Nc5,Bxc5,dxc5,Rg6,e4,Rhg8,g3,dxe4,Qxe4', 'Rxg3+,fxg3,Qxg3+,Kh1,Qxh3#', 'https://lichess.org/training/UZRaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uZrcE', 'Blitz', 'chessworld40', 2381, 'FM Glidzhian_Gor', 2552, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,Nc3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Bg5,Be7,O-O-O,O-O,h3,Nd7,Bxe7,Qxe7,Rhe1,Ne5,Nd5,Bxd5,exd5,Rfe8,Kb1', 'Nxf3,Rxe7,Nxd4', 'https://lichess.org/training/uZrcE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uzRGp', 'Rapid', 'dp3', 1619, 'shaktibehera84', 1968, 'd4,e6,c4,d6,Nc3,a6,Nf3,h6,e4,c6,a3,b5,Be3,Nd7,Qc2,Bb7,Be2,Ngf6,Rd1,bxc4,Bxc4,d5,e5,dxc4,exf6,Qxf6,Ne4,Qg6,Nh4,Qg4,g3,Be7,f3,Qh3', 'Nf2,Bxh4,Nxh3', 'https://lichess.org/training/uzRGp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UzTBt', 'Rapid', 'Etown', 1868, 'User300', 1911, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,h6,Bc4,g5,h3,c6,Ne5,a5,Qh5,Qe7,Bxg5,Nf6,Bxf6,Qxf6,d5,b5,dxe6,dxe6,Bd3,Bg7,O-O-O,Qxe5,Qg4,a4,f4,Qf6', 'e5,h5,exf6,hxg4,fxg7', 'https://lichess.org/training/UzTBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uZtDS', 'Classical', 'satranc25', 1640, 'chutoyy', 1632, 'd4,d5,c4,dxc4,e3,Nf6,Nc3,Bf5,Bxc4,e5,d5,Bb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/uZtDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UztFu', 'Classical', 'Ciocirlan', 1759, 'gunes712', 1664, 'd4,f5,Nc3,Nf6,Bg5,g6,Bxf6,exf6,Nf3,d5,e3,c6,Bd3,b5,a3,a5,O-O,Nd7,Ne2,Nb6,b3,a4,c4,axb3,Qxb3,bxc4,Bxc4,Nxc4,a4,Ba6,Rfb1,Na5,Qc2,Bc4,Nd2,Bxe2,Nb3,Nxb3,Rxb3,Bc4,Rb7,Bd6,f3,O-O,e4,fxe4,fxe4,Re8,exd5,cxd5,Qf2,Re2,Qh4,Be7,Re1,Rxe1+,Qxe1,Bf8', 'Qe6+,Kh8,Qf7,Qe7,Rxe7,Bxe7,Qxe7', 'https://lichess.org/training/UztFu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UzuYo', 'Rapid', 'mariozetta', 1745, 'Sargisn', 1718, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,Bg4,dxe5,Nxe5,Qd5,Bxf3,gxf3,Nf6,Qxb7,Nxc4,Qc6+,Nd7,Qxc4,Be7,Be3,Ne5,Qe2,Rb8,f4,Ng6,c3,Rb7,Na3,Qb8,O-O-O,O-O,Nc4,Rd8,h4,Bxh4,Rxh4,Nxh4,Rh1,Ng6,Qh5,h6', 'f5,Rxb2,Nxb2', 'https://lichess.org/training/UzuYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UzvOX', 'Rapid', 'janko111', 1863, 'Qoeidas', 1880, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,Qf6,h3,Bxf3,gxf3,Nc6,Nd5,Qd8,d3,Nf6,Be3,Nxd5,exd5,Na5,Qd2,Nxc4,dxc4,Be7,O-O-O,h6,Rhg1,Bf6,Kb1,Qe7,Qb4,b6,Qb5+,Qd7,Qxd7+,Kxd7,f4,exf4,Bxf4,g5,Bg3,Be5,Rd3,f5,Bxe5,dxe5,f3,Kd6,Re1,Rae8,b4,e4,fxe4,Rxe4,Rxe4,fxe4,Re3,Ke5,c3,Rf8,Kc2,Rf3,Re2,e3,Kd3,Rxh3,a4,g4,a5,bxa5,bxa5,Kd6,Kd4,Rf3,c5+,Kd7,Ke4,Rf6,Ke5,Rf8,c6+,Kc8,c4,g3,c5,Rf2', 'Rxe3,g2,Rg3', 'https://lichess.org/training/UzvOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('UZvvX', 'Classical', 'Chipooo', 1680, 'erey', 1723, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nb3,Be7,Be2,Nf6,Nc3,Be6,Bf3,Bxb3,axb3,Nc6,Be3,Rb8,O-O,a6,Qe2,Ne5,Rad1,Qc8,Nd5,Nxd5,Rxd5,O-O,h3,Re8,Bg4,Nxg4,hxg4,Qc6,f3,Bf6,c4,Rbd8,Qc2,b5,f4,g6,f5,Bg7,f6,Bf8,Qd2,Rxe4,Bh6,Qe8,Bxf8,Qxf8,Rf4,Qh6,Rxd6,Re1+,Kf2,Qh4+,Kf3,Rde8,Rd8', 'Rf1+,Qf2,Rxf2#', 'https://lichess.org/training/UZvvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uZvY2', 'Blitz', 'gorobets', 2139, 'masterperuano', 2257, 'd4,d5,c4,dxc4,e4,e5,Nf3,exd4,Bxc4,Nc6,O-O,Be6,Bb5,Bc5,Nbd2,Ne7,Nb3,Bb6,Nbxd4,Bxd4,Nxd4,O-O,Nxe6,fxe6,Bg5,h6,Bh4,Rf4,Bxe7,Qxe7,Bxc6,bxc6,f3,Rd8,Qb3,Qc5+,Kh1,Qe5,Rad1,Rff8,h3,Rb8,Qc2,Rxb2,Qxc6,Kh7,Qc4,Qg3,Rg1,Rxf3,Qxe6,Rf6,Qd5,Rff2,e5', 'Qxh3+,gxh3,Rh2#', 'https://lichess.org/training/uZvY2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('uZYgL', 'Blitz', 'kingysf', 1755, 'youmaytry', 1748, 'c4,e5,e3,Nc6,d4,exd4,exd4,d5,Nf3,Nf6,Be2,Be6,cxd5,Nxd5,O-O,Bd6,Nc3,a6,Bg5,f6,Bh4,O-O,Re1,Bf7,Qc2,Nxc3,bxc3,Qd7,Bd3,g6,Bxf6,Bd5,Be5,Bxf3,gxf3,Rxf3,Bxd6,Qxd6,Be4,Rh3,Bg2,Qxh2+,Kf1,Rh5,Qe4,Rf5,Qe6+,Kh8,Re2,Raf8,Rae1,Qg3,f3,Rxf3+,Bxf3', 'Rxf3+,Rf2,Qxf2#', 'https://lichess.org/training/uZYgL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V01pc', 'Rapid', 'SVTSLV', 1847, 'Sergey_1957', 1847, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Bf5,Qb3,Qc7,Nxd5,Nxd5,Qxd5,Be6,Qb5+,Nc6,d5,a6,Qd3,Qa5+,Bd2,Qxd5,e4,Qxd3,Bxd3,Bg4,Be2,e6,h3,Bh5,O-O,Rd8,Bc3,Be7,Bxg7,Rg8,Bc3,Bxf3,Bxf3,Nd4,Bxd4,Rxd4,Rac1,Kd7,Rfd1,e5,Rc2,Bb4,a3,Ba5,b4,Bb6,a4,Ba7,b5,a5,Rb2,Bb6,Bg4+', 'Rxg4,Rxd4+,Bxd4', 'https://lichess.org/training/V01pc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V03QK', 'Rapid', 'Gigantic_Shep', 1640, 'FriGeer', 1613, 'e4,g6,d4,Bg7,c4,d6,f4,Nc6,Nf3,Bg4,Be3,Nf6,Nc3,O-O,Be2,a6,O-O,Bd7,Qd2,Re8,Ng5,Ng4,Bxg4,Bxg4,f5,gxf5,exf5,Qc8,Nd5,Bxf5,Rxf5,Qxf5,Nxc7,Rf8,Nxa8,Rxa8,Rf1,Qg6,Qf2,Bf6,h4,Rf8,Qf3,Nxd4,Bxd4,Bxd4+,Kh1,Bf6,Qxb7,Bxg5,hxg5,Qxg5,Qxa6,Kh8,Qc6,Rg8,Rxf7', 'Qh5+,Kg1,Qxf7', 'https://lichess.org/training/V03QK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v06o3', 'Rapid', 'Tessaijga', 1912, 'mohhmed10', 1909, 'd4,e6,c4,c6,Nc3,b6,e4,d5,cxd5,cxd5,e5,Ne7,Nf3,Nf5,g4,Ne7,Bg5,Qc7,Qb3,Nec6,Bb5,Bd7,Rc1,a6,Ba4,b5,Bxb5,axb5,Nxb5,Qb6', 'Nd6+,Bxd6,Qxb6', 'https://lichess.org/training/v06o3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V07pr', 'Rapid', 'pezaa', 1809, 'Awesome_P', 1769, 'e4,e5,Bc4,Nf6,d3,Bc5,c3,d6,Qa4+,Bd7,Qb3,O-O,Qxb7,Bc6,Qb3,a5,Qd1,Qd7,Nf3,Ng4,O-O,Nxf2,Rxf2,Bxf2+,Kxf2,Na6,Bxa6,Rxa6,Nbd2,Rb6,Kg1,d5,Qe2,dxe4,dxe4,Bxe4,Qxe4,Re6,Nf1,Qd1,Qe1,Qd5,Be3,f5,a3,e4,Nd4,Ree8,Rd1,f4,Ne2,Qg5,Bd4,f3,Ne3', 'f2+,Qxf2,Rxf2', 'https://lichess.org/training/V07pr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V09f0', 'Rapid', 'Semmathe', 1902, 'wavynumber', 1990, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,O-O,Nxc3,bxc3,Bc5,Re1,d6,h3,O-O,d4,exd4,cxd4,Bb6,Bb2,Re8,Rxe8+,Qxe8,a3,Be6', 'd5,Bf5,dxc6', 'https://lichess.org/training/V09f0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V09oC', 'Blitz', 'joan5', 2240, 'Master_WCCTegal', 2256, 'd4,Nf6,Nf3,e6,g3,d5,Bg2,Bd6,b3,O-O,O-O,c6,Bb2,Nbd7,c4,Re8,Ne5,Qc7,f4,Nf8,Nd2,Ng6,e4,Bd7,h3,Rad8,Nxg6,hxg6,e5,Be7,exf6,Bxf6,Nf3,c5,Ne5,dxc4,bxc4,cxd4,Qxd4,Bc6,Qc3,Bxg2,Kxg2,Bxe5,fxe5,Qc6+,Kh2,Rd7,Rf2,Red8,Raf1,Qe4,c5,Rd3,Qc2,Qe3,Rg1', 'Rd2,Qxd2,Rxd2,Rxd2,Qxd2+', 'https://lichess.org/training/V09oC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0ARr', 'Blitz', 'Elpotroserrero71', 1706, 'vbirlik', 1713, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,a6,Bc4,e6,Qd2,Nge7,f3,b5,Bb3,O-O,Bh6,Bxd4,Bxf8,Qxf8,O-O-O,Bg7,h4,d5,exd5,Bxc3,Qxc3,Nxd5,Bxd5,exd5,Rxd5,Bf5,Rxf5,gxf5,Qxc6,Rc8,Qf6,Qc5,Qc3,Qf8,Qf6,Qc5,c3,Qe3+,Kb1,Qd3+,Ka1,Rd8,Qg5+,Kf8,a3,b4,axb4,a5,bxa5,Rd5,Qh6+,Ke7,Re1+,Kd7,Qb6,Qd2,Qb7+,Kd6,Qe7+,Kc6,a6,Ra5+,Kb1', 'Qd3+,Kc1,Ra1#', 'https://lichess.org/training/V0ARr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v0ccb', 'Rapid', 'imbecilexix', 1867, 'Peren_de_Ruse', 1715, 'e4,c5,c3,e5,d4,cxd4,cxd4,exd4,Qxd4,Nc6,Qa4,a6,Nc3,Nf6,Nf3,Bb4,Bd2,O-O,O-O-O,Re8,Nd5,Bxd2+,Nxd2,d6,f3,Bd7,Qb3,b5,Qc3,Nxd5,exd5,Ne5,Kb1,Rc8,Qd4,Bf5+,Ka1,Rc2,Ne4,Qc7,Bd3,Nxd3,Qxd3,Rc8,Nf6+,gxf6,Qxf5,Rxg2,Qxf6,Qc2,Rhg1,Qg6,Qd4,Rcc2,a3,Rxg1,Rxg1,Rg2,Re1,f6,Re6,Kg7,Qa7+,Kh6,Qe3+,Kh5,Rxd6,Rg1+,Ka2,Qb1+,Kb3,Qd1+,Kb4,Re1,Qf4', 'Qa4+,Kc5,Qxf4', 'https://lichess.org/training/v0ccb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v0dPL', 'Rapid', 'raftsman17', 1757, 'jktu_75', 1681, 'Nf3,Nf6,d4,g6,e3,Bg7,c4,O-O,Nc3,c5,d5,d6,e4,e5,Be2,Ne8,O-O,f5,Bg5,Nf6,exf5,gxf5,Bxf6,Rxf6,Nd2,Nd7,Rb1,Rf7,Bh5,Rf8,Nb5,Nf6,Be2,a6,Nc3,Qe8,b4,Nd7,bxc5,Nxc5,Nb3,Nxb3,axb3,f4,f3,Qg6,Ne4,Bh3,Rf2,Bf6,Nxf6+,Rxf6,b4,Qg7,c5,Rg6,Bf1,Re8,c6,bxc6,dxc6,Rc8,Rc1,Qc7,Bxa6,Bxg2,Rxg2,Qb6+,Kh1,Rxg2,Bxc8', 'Qf2,Qg1,Rxg1+', 'https://lichess.org/training/v0dPL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v0eXt', 'Classical', 'SNT_Igor', 1701, 'Murad00', 1779, 'e4,e5,d3,Nc6,Be2,Nf6,f4,Bc5,f5,b6,Nf3,d5,Bg5,dxe4,Bxf6,Qxf6,dxe4,Bb7,Bb5,O-O,Qd7,Rad8,Qxc7,Ba8,Nc3,Nd4,Nxd4,Qh4+,g3,Qg5,Nf3', 'Qe3+,Be2,Qf2#', 'https://lichess.org/training/v0eXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0F7a', 'Classical', 'Peoncete', 1685, 'mikaone', 1690, 'e4,e5,Nf3,Qf6,h3,Bc5,Bc4,d6,d3,h6,a3,a6,Nc3,Ne7,Bd2,b5,Bd5,c6,Ba2,a5,O-O,Qg6,Nh4,Qf6,Nf3,O-O,Qc1,Bxh3,gxh3,Qxf3,Bxh6,Qxh3,Bxg7,Qg4+,Kh1,Qh5+,Kg2,Kxg7,Ne2,Rg8,Ng3,Kf8,Rh1,Qg5,Qxg5,Rxg5,Rh8+,Kg7,Rah1,Ng6', 'R1h7+,Kf6,Rxf7#', 'https://lichess.org/training/V0F7a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0Fq3', 'Rapid', 'NIHONTO_EUROPE', 1981, 'Sauhan2000', 1961, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,d6,O-O,g5,h4,f6,Nh2,h5,d4,Nd7,Nc3,Nb6,Be2,g4,Bxf4,Be6,g3,Qd7,d5,Bf7,Bb5,c6,dxc6,bxc6,Bd3,O-O-O,Qd2,Nc4,Qe2,d5,Na4,c5,Rfd1,Qxa4,b3,Qb5,bxc4,dxc4,Rab1,cxd3,Rxb5,dxe2', 'Rb8#', 'https://lichess.org/training/V0Fq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v0H3S', 'Rapid', 'liy_dash', 2042, 'michaelrzink', 2048, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,Bg5,Bf5,Bxf6,exf6,a3,Be6,e3,a6,Bd3,Bd6,Qc2,Rc8,Bxh7', 'g6,Bxg6,fxg6', 'https://lichess.org/training/v0H3S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0j48', 'Rapid', 'jeaneksteen', 1705, 'TJ-Hooker', 2287, 'c4,e5,Nc3,d5,g3,Nc6,cxd5,Nf6,Bg2,Bb4,Nf3,Bxc3,bxc3,Nxd5,O-O,Bg4,d3,Bxf3,Bxf3,Nxc3,Qd2,Nb5,Bb2,e4,Bxe4,Ne5,Bxe5,f6,Bf4,O-O,Bxb7,Rb8,Be4,Re8,Rfd1,Na3,Rac1,Rb5,Bc6,Re6,Bxb5,Nxb5,Qb4,c6,e4,g5,Be3,Re5,Rxc6,Qd7,Rdc1,Kg7,a3,Qxd3,Rc8,Rxe4,Qf8+,Kg6,Qg8+,Kh6,a4,Nd6,g4', 'Rxg4+,Kh1,Qe4+,f3,Qxf3#', 'https://lichess.org/training/V0j48');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v0J75', 'Blitz', 'Asphaltan', 1534, 'pizorro', 2147, 'd4,d6,c3,f5,f3,Nf6,Be3,g6,Bf2,Bg7,e3,O-O,Bd3,c6,Ne2,Qc7,Nd2,e5,O-O,Be6,b3,Nbd7,Qc2,a5,a4,Rab8,e4,fxe4,Nxe4,Nxe4,Bxe4,d5,Bxg6,hxg6,Qxg6,Nf6,Bg3,Qf7,Qg5,Nh7,Qh4,exd4,Nxd4,Bxd4+,cxd4,Qg6,Bxb8,Rxb8,Rae1,Rf8,Qe7,Bf7,f4,Nf6,Rf3', 'Re8,Qxe8+,Bxe8,Rg3,Ng4', 'https://lichess.org/training/v0J75');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0JMT', 'Rapid', 'AMPECA', 1990, 'losnombressisirven', 1978, 'e4,e6,d4,d5,exd5,exd5,Nc3,c6,h3,Bd6,Nf3,Ne7,Bg5,f6,Bh4,Bf5,Bd3,Qd7,O-O,Bxd3,Qxd3,Na6,a3,O-O-O,b4,g5,Bg3,Bxg3,fxg3,g4,hxg4,Qxg4,Nh2,Qg7,b5,Nc7,bxc6,Nxc6,Qf5+,Rd7,Ng4,Nxd4,Qf4,Ncb5,Nxb5', 'Ne2+,Kh2,Nxf4', 'https://lichess.org/training/V0JMT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v0jPN', 'Blitz', 'siciliantro', 1634, 'Kakosik228', 1616, 'd4,d5,Nf3,c5,dxc5,Nc6,Nc3,e6,e3,Bxc5,Bb5,Bd7,O-O,Nf6,Bd3,O-O,Bd2,a6,b3,b5,a3,a5,Nxb5,Rb8,Nbd4,Nxd4,Nxd4,Bxd4,exd4,h6,c3,Qb6,Bxh6,gxh6,Qd2,Kg7,f4,Qxb3,Rf3,Bb5,Rg3+,Kh8,f5,Bxd3', 'Qxh6+,Nh7,Qg7#', 'https://lichess.org/training/v0jPN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0k1n', 'Rapid', 'CHESS_MATTANI', 1912, 'Miguel-Brazil', 1862, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be3,d5,exd5,Nxd5,Nxc6,bxc6,Nxd5,cxd5,Bb5+,Bd7,Qe2', 'Qa5+,Bd2,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/V0k1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0LKQ', 'Classical', 'Bigil04', 1765, 'Rajunr-123', 1647, 'Nf3,d5,e4,dxe4,Ng5,Nf6,d3,exd3,Bxd3,e5,Nc3,h6,Bb5+,c6', 'Qxd8+,Kxd8,Nxf7+', 'https://lichess.org/training/V0LKQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v0Q6v', 'Rapid', 'bbeltkyle89', 1928, 'ZalimBerkay', 1673, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,Nc6,e4,Ndb4,Bc4,Bg4,Bxf7+,Kxf7,Ng5+,Kg8,Qb3+,Nd5,exd5,Nxd4,Qc4,e5', 'd6+,Be6,Nxe6', 'https://lichess.org/training/v0Q6v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0qEE', 'Rapid', 'andichess05', 2113, 'PositiveSign', 1989, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,O-O,Nge7,Ng5,O-O,Qh5,h6,Nxf7,Rxf7,Bxf7+,Kf8,Qxc5,Kxf7,c3,d6,Qh5+,Kg8,cxd4,Nxd4,Nc3,Be6,Qd1,Ndc6,b3,Qe8,Bb2,Qg6,f4,Bg4,Qd2,Rf8,f5,Qh5,h3,Bxh3,gxh3,Qxh3,Qg2,Qe3+,Rf2,Ne5,Nd1,Qc5,Rc1,Qa5,f6,N7g6,fxg7,Rxf2,Nxf2,Nf4,b4,Qb5,a4,Qxb4,Qh2', 'Nf3+,Kh1,Nxh2', 'https://lichess.org/training/V0qEE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0r8l', 'Blitz', 'Dragon_Sword', 2238, 'NM foreignaffairs', 2367, 'e3,e5,b3,Nc6,Bb2,a6,Nf3,d6,d4,g6,dxe5,Bg7,h4,h5,Bd3,Nh6,Nbd2,Ng4,Nc4,dxe5,Be4,Qe7,Bxc6+,bxc6,Qd2,O-O,O-O-O,Re8,Ng5,Be6,Nxe6,Qxe6,f3,Nh6,Qa5,Qe7,Ba3,Qf6,Qxc7,Nf5,g4,Nxh4,gxh5,Nxf3,h6,Bf8,h7+,Kh8,Bb2,Bg7,Rd7,Rf8,Rd6,Qf5,Nb6,Qe4,Nxa8,Nd4,Bxd4', 'Qxh1+,Kb2,exd4', 'https://lichess.org/training/V0r8l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v0sKu', 'Rapid', 'vscenev', 1802, 'starbaker', 2121, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,O-O,Nf3,Ng4,Bd3,Nxe3,fxe3,e5,O-O,Nc6,d5,Ne7,Qe1,h6,Rc1,b6,b4,a5,a3,f5,exf5,Bxf5,e4,Bg4,Qg3,Bxf3,Rxf3,Rxf3,Qxf3,Qd7,Rf1,Rf8,Qg3,Rxf1+,Kxf1,Kh7,h4,Qe8,Nb5,Qf7+,Qf2,Qxf2+,Kxf2,Bf6,g3,g5,hxg5,Bxg5,Nxc7,Bc1,bxa5,bxa5,a4,Ba3,Ne6,Kg8,g4,Ng6,Nd8,Nf4,Ke3', 'Bc1+,Kf3,Nxd3', 'https://lichess.org/training/v0sKu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v0Swd', 'Blitz', 'dane1', 2077, 'UnderPrez', 2000, 'd4,e6,c4,Nf6,Bg5,h6,Bh4,g5,Bg3,Bg7,Nc3,Nh5,e4,Nxg3,hxg3,c5,Nf3,Nc6,dxc5,Qa5,Qd2,Qxc5,Nb5,O-O,O-O-O,a6,Nd6,Ne5,Nxe5,Qxe5,f4,gxf4,gxf4,Qc5,e5,b5,Qc2,bxc4,Bxc4,Qe3+,Qd2,Qc5,Kb1,Rb8,Bb3,Bb7,Rh2,a5,g4,a4,Bc2,Rfc8,g5,a3,gxh6,Bh8,Qd3,Be4,Qg3+,Kf8,Bxe4,Rxb2+,Rxb2,axb2,Qh3', 'Qc1+,Rxc1,bxc1=Q#', 'https://lichess.org/training/v0Swd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v0vxk', 'Rapid', 'PokePotterhead', 2153, 'WilKellermanChess', 2195, 'c4,e5,Nc3,Nf6,d3,Bb4,Bd2,Bxc3,Bxc3,d6,g3,O-O,Bg2,Nc6,b4,a6,a4,Rb8,b5,axb5,axb5,Ne7,Nf3,c6,bxc6,bxc6,Nd2,Bg4,h3,Bf5,O-O,Qd7,Kh2,h6,Qa4,Nh7,Ne4,Bxe4,Bxe4,f5,Bg2,f4,g4,h5,Bf3,Ng5,Kg2,Rfd8,Rfb1,Rxb1,Rxb1,Qc7,Ba5,Qa7,Qb4,Rd7,Qb8+,Qxb8,Rxb8+,Kh7,gxh5,Nxf3,Kxf3,Nf5,Bc3,Kh6,Kg4,g6,Rh8+,Kg7,Rc8,Nh6+,Kf3,c5,hxg6,Kxg6,Rc6,Kf5,e4+,fxe3,fxe3,Nf7,h4,Nh6,e4+,Ke6,Bd2,Ng8,Rc8,Rf7+,Kg4,Nf6+,Kg5,Rg7+,Kh6,Rh7+,Kg6,Rxh4,Bg5,Rg4,Rf8', 'Rxg5+,Kxg5,Nh7+,Kh6,Nxf8', 'https://lichess.org/training/v0vxk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0wZz', 'Rapid', 'SergeySlobodenuk', 2060, 'stanley1809', 2017, 'Nf3,Nc6,Nc3,e5,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,Qc4,c6,Ne4,Qe6,Qd3,d5,Ng5,Qf5,e4,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Be2,Bf5,Qe3+,Be7,c3,O-O,O-O,Rfe8,Qf3,Bd6,Be3,Qh4,g3,Qf6,Rfe1,Qg6,Bf4,Be4,Qg4,Bxf4,Qxf4,Bd5,Bf3,Bxf3,Qxf3,Qc2,b3,Qd2,Red1,Qc2,Qd3', 'Re1+,Rxe1,Qxd3', 'https://lichess.org/training/V0wZz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0xQ0', 'Classical', 'cmdonerkaya', 1684, 'jesusmor', 1792, 'e4,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Bc4,Be6,Bxe6,fxe6,Bg5+,Nf6,Nd2,Bd6,O-O-O,Ke7,Nc4,h6,Bxf6+,gxf6,Nxd6,cxd6,Nf3,Rg8,g3,Nc6,Nd2,b5,f4,exf4,gxf4,Rg2,Rdg1,Rag8,Nf3,Nd4', 'Rxg2,Rxg2,Nxd4', 'https://lichess.org/training/V0xQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0YS2', 'Rapid', 'Robylant', 1726, 'Damir-2002', 1659, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,c5,Nf3,cxd4,Nxd4,e5,Nb5,Qxd1+,Kxd1,Na6,Be3,Bf5,Bd3,Bxe4,Bxe4,O-O-O+,Ke2,b6,Nxa7+,Kc7,Nb5+,Kb8,Rhd1,Rxd1,Rxd1,Be7,Bxb6,Nf6,f3,Nb4,a3,Nxe4,fxe4,Nxc2,Rc1,Rc8,Kd3', 'Nb4+,axb4,Rxc1', 'https://lichess.org/training/V0YS2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V0zwa', 'Rapid', 'iran-soldier', 1836, 'moh_k', 2018, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,Nf6,h3,O-O,O-O,d5,Bd3,dxe4,Nxe4,g6,Nxf6+,Qxf6,d5,Nd4,Nxd4,Qxd4,Qb3,Rd8,Rad1,Qb6,Qc3,Rxd5,Bc4,Rxd1,Rxd1,Be6,b3,Bxc4,Qxc4,Re8,Rd7,Re1+,Kh2,Qxf2,Rd8+,Kg7,Qc3+,Qf6', 'Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/V0zwa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v12LK', 'Blitz', 'OmNamahaShivay', 2087, 'YK07_CHAMP', 2190, 'd4,c5,c3,cxd4,cxd4,Nf6,Nc3,g6,d5,Bg7,e4,d6,f4,O-O,e5,dxe5,fxe5,Ng4,Nf3,Nxe5,Nxe5,Bxe5,Bh6,Qa5,Qb3,Re8,Bd2,Na6,O-O-O,Nc5,Qb5,Bxc3', 'Qxe8+,Kg7,Bxc3+,Qxc3+,bxc3', 'https://lichess.org/training/v12LK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v15w3', 'Rapid', 'savanovic', 1608, 'Burkov', 1870, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nf6,Bb5+,c6,Bd3,Bd6,O-O,O-O,b3,Bg4,Bb2,Nbd7,h3,Bh5,Qe2,Re8,Qd1,Ne5,Be2,Qc7,Nxe5,Bxe2,Qxe2,Bxe5,Qd1,Re7,Re1,Rae8,d4,Bh2+,Kh1,Rxe1+,Qxe1,Rxe1+,Rxe1,Ne4,Nxe4,dxe4,Rxe4,f5,Re8+,Kf7,Re3,Bd6,Rf3,g6,g4,Ke6,gxf5+,gxf5,Re3+,Kd5', 'c4#', 'https://lichess.org/training/v15w3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V1AIQ', 'Blitz', 'Alexandrus-the-Great', 2085, 'WCM Bitiac', 1761, 'e4,e5,d4,exd4,Bc4,Nf6,Nf3,d6,h3,Nc6,c3,dxc3,Nxc3,Be7,a3,O-O,b4,Re8,Bxf7+,Kxf7,Ng5+,Kf8,Qb3,Ne5,f4,h6,fxe5,hxg5,exf6,Bxf6,O-O,Be6,Qc2,Kg8,Bb2,Bd4+,Kh1,Bc4,Rfd1,Bxc3', 'Qxc3,Qe7,Qxc4+', 'https://lichess.org/training/V1AIQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1aTV', 'Rapid', 'tgb00', 2060, 'grond', 1895, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,e6,Be2,Be7,Be3,Nf6,O-O,O-O,f4,e5,Nb3,a6,f5,Qc7,Bg5,b5,Bxf6,Bxf6,Nd5,Qd8,Nxf6+,Qxf6,c3,Bb7,a4,b4,c4,a5,Qd5,Rfd8,Qd2,Ba6,Qe3,Ne7,Rad1,Rd7,Nc5,Rc7,Nxa6,Rxa6,b3,Nc6,Rd5,Nd4,Rd1,Rc5,Rd2,Rxd5,cxd5,Ra8,Bc4,Rc8,g4,h6,Kg2,Qh4,h3,f6,Qg3,Qg5,Qf2,h5,Kg3,h4+,Kg2,Kh7,Rd1,Kh6,Qd2,Qxd2+,Rxd2,g6,fxg6,Kxg6,Rf2,Kg5,Kg1,Rc7,Kg2,Rc8,Kf1,Rc7,Ke1,Rc8,Kd2,Rc7,Ke3,Rc8,Rd2,Rc7,Rf2,Rc8,Kd3', 'Nxb3,Bxb3,Rc3+,Ke2,Rxb3', 'https://lichess.org/training/v1aTV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V1CBm', 'Rapid', 'kelvindo', 1699, 'dpathak', 1607, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,d5,exd5,exd5,Bb5,a6,Ba4,b5,dxc5,Qa5+,Bd2,Qxa4,Nc3,Qg4,Qe2+,Be6,Nxd5,Rc8,O-O-O,Bxc5,h3,Qa4,Nc3,Nd4,Qe5,Ne2+,Qxe2,Qa5,Kb1,Qc7,Rhe1,Nf6,Bg5,Be7,Nd4,Bc4,Qe3,O-O,Qxe7,Bxa2+,Kxa2,Qc4+,Kb1,Nd5,Nxd5,Qxd5,Be3,Rfe8,Qa3,Qb7,Re2,b4,Qb3,a5,Rde1,a4,Qxa4,Ra8,Qb3,Re5,Bf4,Qa6,c3,Qa1+,Kc2,Rxe2+,Rxe2,bxc3,Qxc3,Qa6,Qd3,Rc8+,Kd2,Qa4,Qb3,Qxd4+,Ke1,Qxf4,Kf1,h6,Re1,Qh2,Qg3', 'Qh1+,Ke2,Re8+', 'https://lichess.org/training/V1CBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V1dsX', 'Rapid', 'PaulMorphy2', 1819, 'ASiza', 1814, 'e4,a6,d4,b6,Nf3,Bb7,Bd3,d6,c3,Nd7,Bf4,Ngf6,Qe2,g6,Qe3,Bg7,Bh6', 'Ng4,Bxg7,Nxe3', 'https://lichess.org/training/V1dsX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1e5U', 'Rapid', 'YertleTheTurtle', 1745, 'bbb3000', 1786, 'd4,e6,e4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,O-O,Nxe5,dxe5,Bxb5,a4,Bxf1,Qxf1,Qb6,Nc3,a6,Be3,d4,Ng5,h6,Nce4,hxg5,Nxg5,dxe3,fxe3,Qc7,c4,f6,exf6,Qxh2+,Kf2,Qh4+,Ke2,Qxg5,f7+,Ke7,fxg8=Q,Rxg8,Qf3,Rb8,g4,g6,Qg3,Bh6,Qc7+,Kf6', 'Rf1+,Qf5,gxf5', 'https://lichess.org/training/v1e5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1EXO', 'Rapid', 'Victor_Matas', 2113, 'Guest50', 2061, 'd4,c6,Nc3,d5,e4,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,h4,h5,Ne5,Bh7,Bc4,e6,c3,Bd6,Bf4,Bxe5,Bxe5,Nbd7,Bd6', 'Nb6,Bc5,Nxc4', 'https://lichess.org/training/v1EXO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V1Ey1', 'Rapid', 'kckrishna', 2334, 'lauflash2020', 2497, 'e4,c6,d4,d5,exd5,cxd5,c4,Nc6,Nf3,Nf6,cxd5,Nxd5,Nc3,Bg4,Qb3,Bxf3,gxf3,e6,Qxb7,Nxd4,Bb5+,Nxb5,Qc6+,Ke7,Qxb5,Nxc3,bxc3,Qd5,Qxd5,exd5,Be3,Ke6,Bd4,Bd6,Kd2,Rhb8,Kd3,g6,h4,h5,Rhg1,a5,Rae1+,Kd7,Rg5,Kc6,c4,dxc4+,Kxc4,Rb4+,Kc3,Kd7,Kd3,Ra4,Rb5,Ra3+,Kc4,Rxf3,Rb7+,Kc6,Rb6+,Kc7,Reb1,Kd7,Rb7+,Kc8,Kd5,Ra6,R1b6,Rxb6,Rxb6,Bc7,Rc6,Rf5+,Ke4,Rf4+,Kd5,Kb7', 'Rxc7+,Kxc7,Be5+,Kd7,Bxf4', 'https://lichess.org/training/V1Ey1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1fi1', 'Rapid', 'SweetVictory', 1930, 'Mercuryjon', 1975, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Nb3,Re8,O-O-O,Be6,Nd5,Bxd5,exd5,Ne5,Kb1,Qc7,Bd3,Nc4,Bxc4,Qxc4,g4,Rac8,Qd3,b6,Qxc4,Rxc4,h4,Nd7,h5,Ne5,hxg6,hxg6,Nd4,Rec8,c3,Nd7,Nc6,R4xc6,dxc6,Rxc6,Bh6,Ne5,Bxg7,Kxg7,Rh3,e6,Rdh1,d5,Rh8,Nxf3,R8h7+,Kf6', 'Rf1,Ke5,Rxf3', 'https://lichess.org/training/v1fi1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1G0l', 'Rapid', 'Zpytasz', 1645, 'blackchess27', 1704, 'b4,g6,b5,Bg7,c3,b6,Nf3,Bb7,g3,e6,Bg2,Ne7,O-O,O-O,a4,a6,c4,d5,Ra2,dxc4,Nc3,Bxc3,dxc3,axb5,Qc2,Rxa4,Rxa4,bxa4,Qxa4,Bd5,Bh6,Re8,Ne5,Nf5,Bf4,Bxg2,Kxg2,Qd5+,Kg1,b5,Qa7,g5,Qxc7,gxf4,Qxf7+,Kh8,Qxe8+,Kg7,Qxb8,fxg3,Qc7+,Kh6,Nf7+,Kh5,fxg3,Ne3,Rf3', 'Qd1+,Kf2,Ng4+,Kg2,Qxe2+', 'https://lichess.org/training/v1G0l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1G0o', 'Rapid', 'gogoLSFC', 1847, 'BearsLoveVodka', 1903, 'e4,c6,d4,d5,Nc3,Nf6,e5,Nfd7,Bf4,e6,Nf3,c5,Nb5,Nc6,Nd6+,Bxd6,exd6,cxd4,Nxd4,Nxd4,Qxd4,O-O,Qd1,Qf6,g3,Qxb2,Bg2,b6,O-O,Ba6,Re1,Rac8,Rc1,Qxa2', 'Ra1,Qc4,Bf1', 'https://lichess.org/training/v1G0o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1GbZ', 'Rapid', 'isaac990', 2104, 'giomar', 2190, 'Nf3,Nf6,g3,d6,Bg2,e5,O-O,e4,Ne1,Nc6,d3,Bf5,Nc3,d5,dxe4,dxe4,Bg5,Be7,Bxf6,Bxf6,Nxe4,Bxe4,Bxe4,Bxb2,Rb1,Qxd1,Rxd1,O-O,Bxc6,bxc6,Nd3,Bf6,Nc5,Rfd8,Rd3,Rd5,Nd7,Be7,Rfd1,Rd8,Rxd5,cxd5,Rxd5,f6,c4,Kf7,e4,Ke8,Nxf6+,Bxf6,Ra5,Bd4,Kg2,Ke7,f4,Bb6,Re5+,Kf7,Rf5+,Ke7,c5,Ba5,Re5+,Kd7', 'c6+,Kxc6,Rxa5', 'https://lichess.org/training/v1GbZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1H52', 'Blitz', 'edoardo920', 1846, 'bopolissimus', 1892, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,h3,h6,c3,d6,d4,Na5,Bc2,exd4,cxd4,c6,Nc3,Qc7,Ne2,Rd8,Ng3,c5,d5,Nc4,b3,Ne5,Bb2,c4,Qd4,Nfd7,Rac1,Bf6,Qe3,Nxf3+,Qxf3,Bxb2,Nf5,Ne5,Qg3,Ng6,Rcd1,Be5,Qg4,Bxf5,exf5,Nf4,g3,Nxd5,Rxd5,Bf6,Qf3,Rac8,h4,c3,Kh2,b4,Kh3,Re8,Red1,Red8,g4,a5,g5,hxg5,hxg5,Bxg5,f6,Bxf6,Rh5,Qe7', 'Rh8+,Kxh8,Qh5+,Kg8,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/v1H52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1KqP', 'Blitz', 'Joscha230381', 1607, 'lord74', 1539, 'e4,e5,Bc4,c6,Nf3,b5,Bb3,a5,c3,a4,Bxf7+,Kxf7,Nxe5+,Ke8,d4,Nf6,Bg5,Bd6,Qh5+,g6,Bxf6,Qxf6,Qf3,Bxe5,dxe5,Qxe5,O-O,Rf8,Qh3,h5,Nd2,d6,Qe3,Nd7,Nf3,Qf6,Nd4,Ne5,f4,Nc4,Qc1,Bd7,e5,dxe5,fxe5,Qe7,e6,Bc8,Re1,Bb7,Qh6,Kd8,Rad1,Kc8,Qxg6,Kb8,Qc2,Ka7,b3,Rg8,bxc4,c5,Nxb5+,Kb8,Rd7,Rxg2+,Kf1', 'Qf6+,Qf5,Qxf5#', 'https://lichess.org/training/v1KqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1LrK', 'Rapid', 'Markic3', 1823, 'AshrafAsh99', 1793, 'e4,Nf6,e5,Nd5,Bc4,c6,b3,Nb6,Bd3,g6,Bb2,Bg7,Nf3,d6,O-O,Bg4,Re1,N8d7,h3,Bxf3,Qxf3,Bxe5,Bxe5,Nxe5,Qe4,f5,Qd4,Nxd3', 'Qxh8+,Kd7,Qxd8+', 'https://lichess.org/training/v1LrK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1nvn', 'Rapid', 'ShaneTrain', 1717, 'Rhaellion', 1719, 'e4,c5,Nc3,g6,f4,e6,Nf3,Bg7,d4,cxd4,Nxd4,a6,Be3,d6,Qd2,Ne7,O-O-O,O-O,Nf3,Nbc6,Bd3,b5,f5,exf5,exf5,Nxf5,Bxf5,Bxf5,Bh6,Rc8,h4,Qa5,Bxg7,Kxg7,h5,b4,h6+,Kh8,Nb1,Qxa2,Qxd6,Na5', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/v1nvn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V1O4L', 'Rapid', 'MagnusHeming', 1677, 'schifu', 1701, 'e4,e5,Bc4,Nc6,Nc3,Nf6,d3,Be7,f4,exf4,Bxf4,O-O,Nf3,d6,h3,h6,O-O,Na5,Bb3,Nxb3,axb3,d5,Nxd5,Nxd5,exd5,Qxd5,Qe1,Bf6,Ra5,Qc6,Qg3', 'Qb6+,Kh2,Qxa5', 'https://lichess.org/training/V1O4L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1oP9', 'Blitz', 'pranavdivakar', 1810, 'simipro', 1820, 'e4,g6,Nc3,Bg7,Nf3,d6,Bc4,Nf6,d4,e6,O-O,Nc6,h3,Bd7,Bg5,h6,Bh4,g5,Bg3,Nh5,Bh2,Nf4,Bxf4,gxf4,Re1,e5,dxe5,Nxe5,Nxe5,Bxe5,Qh5,Qf6,Nd5,Qg7,Nxc7+,Ke7,Nxa8,Rxa8,Qh4+,f6,f3,a5,Rab1,a4,a3,Rc8,Bd3,Rg8,Re2,Kf8,Bc4,Rh8,Rd1,h5,Bd5,Rh6,Bxb7,Rg6,Kh1,Rg3,c3,Kf7,Bd5+,Kg6,c4,Kh6,Rdd2,f5,Qd8,fxe4,Bxe4,Bxh3,gxh3', 'Rg1+,Kh2,Qg3#', 'https://lichess.org/training/v1oP9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V1Q8C', 'Classical', 'EduardRND', 1629, 'Coal_Timber', 1800, 'e4,e5,Nf3,Nc6,a3,Nf6,Nc3,Bc5,h3,O-O,d3,h6,Qe2,d6,Be3,Bb6,Bxb6,axb6,Qe3,Nd7,Be2,Nc5,O-O,f5,exf5,Bxf5,Nh2,Nd4,Bd1,c6,Ne2,Qf6,c3,Nxe2+,Bxe2,Rae8,Ng4,Qg6,f3,h5,Nf2,Bxh3,Nxh3,Ne6,Qxb6,Nf4,Nxf4,exf4,Rae1,h4,Qxb7,Qg3,Qxc6', 'h3,Rf2,h2+,Kh1,Qxf2,Rf1,Qxe2', 'https://lichess.org/training/V1Q8C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V1rQH', 'Blitz', 'reda2025', 1595, 'kives', 1804, 'e4,c5,Nf3,d6,c4,Nf6,d3,Bg4,Be2,Nc6,h3,Bxf3,Bxf3,Nd4,O-O,e6,Nd2,Be7,Nb3,e5,Bg5,O-O,Bxf6,Bxf6,Nxd4,cxd4,b4,Rc8,Rc1,b5,cxb5,Qb6,Rxc8,Rxc8,Qd2,Qxb5,a3,Rc3,Be2,Rxa3,Rc1,g6,Qh6,Qb8,Bg4,Rc3,Ra1,Bg7,Qg5,Rxd3,Qe7,Qxb4,Rxa7,Qe1+,Kh2,Qxf2,Bf3,Rxf3', 'Ra8+,Bf8,Qxf8#', 'https://lichess.org/training/V1rQH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1s84', 'Rapid', 'ChristianDanilo', 1826, 'Ranko_1', 1877, 'd4,d5,c4,e6,Nf3,dxc4,e3,b5,a4,c6,Ne5,Bb7,Qf3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/v1s84');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1ToL', 'Rapid', 'fainomenon', 1695, 'nro', 1669, 'd4,d5,Bf4,Nc6,Nf3,Nf6,e3,g6,Be2,Bg7,Nbd2,O-O,O-O,Bf5,c3,Ne4,h3,e5,Nxe5,Nxe5,Bxe5,Bxe5,dxe5,Qg5,f4,Qh4,Nf3,Qg3,Kh1,Nf2+,Rxf2,Qxf2,Qd2,Be4,Rf1,Qg3,Qe1,Qxe1,Rxe1,c6,b4,Rae8,Ng5,Bf5,g4,Bd7,a4,a6,a5,f6,Nf3,fxe5,Nxe5,Bc8,Bd3,Rf6,g5,Rfe6,Bc2,Rxe5,fxe5,Rxe5,h4,Bg4,Kg2,Kg7,Kg3,Bf5,Kf4,Re6,Bxf5,gxf5,Kxf5,Re4,h5,Kf7,g6+,hxg6+,hxg6+,Kg7,Rh1,Rxe3,Rh7+,Kg8,Kf6,Rf3+,Ke7,Rg3,Kf6,Rxc3,Rxb7,Rf3+,Kg5,Rf1,g7,d4,Kg6,Rg1+,Kf6,d3', 'Rb8+,Kh7,Rh8#', 'https://lichess.org/training/v1ToL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V1uka', 'Rapid', 'zuzannaklara', 1870, 'seaholme', 2013, 'd4,Nf6,c4,e6,Nf3,c5,d5,exd5,cxd5,d6,Nc3,g6,e4,Bg7,Bd3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Nbd7,Bf4,Ne8,Bh2,Ne5,Qe2,Nxd3,Qxd3,Qe7,Kh1,f5,exf5,Rxf5,Rae1,Qf7,Re6,Rxf2,Rxf2,Qxf2,Ne4,Qe1+,Bg1,Bd4', 'Nf6+,Bxf6,Rxe1', 'https://lichess.org/training/V1uka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V1vZz', 'Rapid', 'lima_96', 1765, 'abd19781978', 1768, 'd4,f5,Nc3,Nf6,Nf3,e6,Bg5,Be7,Bxf6,Bxf6,e4,fxe4,Nxe4,O-O,Be2,b6,O-O,Bb7,Ned2,Bxf3,Bxf3,c6,c3,d5,Be2,Bg5,Nf3,Qf6,Qc2,Bf4,Bd3,g6,Rae1,b5,Qe2,Re8,g3,Bd6,Ne5,Bxe5,Qxe5,Qxe5,Rxe5,Nd7,Re3,Re7,f4,Rae8,h3,Nf6,Kg2,Nh5,Be2,Nf6,b3,a5,a3,Ne4,Rc1,Ra8,Bd3,Nd2,Bc2,a4,b4,Nc4,Rce1,Nxe3+,Rxe3,Kg7,h4,Rae8,Bd1,Kf6,Bg4,h5,Bh3,Kg7,Re5,Kf6,Kf3,g5,hxg5+,Kg6,Ke3,Rh8,Kf3,h4,g4,Kf7,g6+,Kxg6,f5+,Kf6,Re3,e5,dxe5+,Rxe5', 'g5+,Kxg5,Rxe5', 'https://lichess.org/training/V1vZz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V1wZE', 'Rapid', 'Jalilovich', 2070, 'BongTeggy', 2078, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,d5,Bb3,Nc6,Ba4,Bd6,d3,Nc5,Bb3,Be6,Ng5,Qd7,Nxe6,fxe6,Nc3,O-O-O,a4,a6,Ba2,a5,Ne2,e4,d4,Na6,c3,e5,b4,exd4,b5,d3,Ng3,h5,bxa6,Bc5,axb7+,Kb8,Be3,Bxe3,fxe3,h4,Nh1,h3,g3,Ne5,Nf2,Nf3+,Kh1,Qc6,Qb3,Rh6,Ng4,Rg6,Nf2,Qd6,Qb5,Rxg3,Qxa5', 'Rg1+,Rxg1,Qxh2#', 'https://lichess.org/training/V1wZE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v1yED', 'Classical', 'Fredo54', 1684, 'Daaaaaaaark', 1817, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,d6,Ng5,O-O,d3,Nc6,O-O,Bg4,Ne2,h6,h3,Bh5,Nf3,Bxf3,gxf3,Na5,a3,Nxc4,dxc4,a6,f4,Nxe4,fxe5,Bxf2+,Rxf2,Nxf2,Kxf2,Qh4+,Ke3,Qxh3+,Kd2,dxe5,Ke1,Rad8,Bd2,Qh1+,Kf2,Qh2+,Ke3,f5,Ng1,Qg3+,Nf3,f4+,Ke4,Qg6+,Kxe5,Rfe8+,Kxf4,Qe4+,Kg3,Qg6+,Kf2,Qb6+,Kg3,Re3,Bxe3,Rxd1,Bxb6,Rxa1,Bxc7,g5,Kg4,Kf7,Be5,Kg6,Kh3,Kh5,c5', 'g4+,Kg3,gxf3', 'https://lichess.org/training/v1yED');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V22RE', 'Rapid', 'mehrdad1353', 1600, 'Dondiablo01', 1634, 'd4,d5,Bf4,Nc6,e3,Bf5,Bd3,g5,Bxg5,Be4,Bxe4,dxe4,Qg4,Nxd4,exd4,Qxd4,Nc3,e6,Qxe4,Qb6,O-O-O,Bd6,Nd5,Qa5,a3,Ne7,Nxe7,Bxe7,Bxe7,Kxe7,Qxb7,Rab8,Qe4,Qb6,b4,Qxf2,Qd3,Qxg2,Nf3,Rbd8,Rhg1,Qh3,Rg3', 'Qh6+,Kb2,Rxd3', 'https://lichess.org/training/V22RE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v26dt', 'Classical', 'alexamathewz', 2078, 'Smobe', 1788, 'd4,Nf6,c4,g6,f3,Bg7,e4,d6,Nc3,O-O,Be3,c5,dxc5,Qa5,cxd6,exd6,Ne2,Nfd7,Qxd6,Rd8,Qd5,Qb4,Qd2,Nc6,Nd4,Nde5,Nxc6,Nxc6,Qc2,Be6,a3,Qa5,b4', 'Nxb4,axb4,Qxa1+', 'https://lichess.org/training/v26dt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v28pX', 'Rapid', 'alekelared', 1727, 'berkay0062', 1700, 'e4,e5,d4,d6,dxe5,Nc6,exd6,Bxd6,Nf3,Nf6,Nc3,O-O,Bd3,Bg4,O-O,Re8,Bg5,Nd4,Be2,Nxe2+,Qxe2,c6,Qe3,h6,Bh4,Qe7,h3,Bxf3,Qxf3,Rad8,Rfe1,Bc5,e5,g5,exf6,Qxe1+,Rxe1,Rxe1+,Kh2,gxh4,Qg4+,Kf8,Qg7+,Ke8,Qg8+,Kd7,Qxf7+,Kc8,Qg7,Bd6+,g3,hxg3+,fxg3,Bxg3+,Kxg3', 'Rg1+,Kf3,Rxg7', 'https://lichess.org/training/v28pX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2aPY', 'Rapid', 'eggzit', 1855, 'Draco30Rounds', 1958, 'e4,e5,Nf3,f5,d4,exd4,Nxd4,Nc6,Nxf5,d5,exd5,Bxf5,dxc6,Qxd1+,Kxd1,Rd8+,Bd2,bxc6,Nc3,Bb4,Bc4,Bxc3,bxc3,Nf6,Re1+,Kd7,Re3,Ng4,Rf3,Rhf8,Ke2,Nxh2,Rg3,Rde8+,Kd1,g6,Kc1,Be6,Bxe6+,Rxe6,Rh3,Nf1,Rxh7+,Kc8,Bg5,Rf5,f4', 'Re1+,Kb2,Rb5+', 'https://lichess.org/training/v2aPY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V2AWV', 'Classical', 'camburas321', 1950, 'awaman', 2003, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qc7,g3,Nf6,Bg2,Bg4,Nf3,Qd7,Be3,Na6,O-O,Bh3,Ne5,Qf5,Re1,Bxg2,Kxg2,Nc7,Nc4,Ncd5,Bf4,Nxc3,bxc3', 'Qd5+,Qf3,Qxc4', 'https://lichess.org/training/V2AWV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V2bmF', 'Rapid', 'ramin97', 1743, 'Loof', 1723, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Nxe4,Nxf7,Qh4,O-O,Bc5,Qf3,Nd4,Qd3,Rf8,Nxe5,Ne2+,Qxe2,Nxf2,Ng6+,Qe4,Nxf8,Nd3+,Kh1,Qxe2,Bxd3,Qh5,Nxh7,Bd6,h3,b6,Nc3,Bb7,Ne4,O-O-O,b3,Kb8,Nhg5,Re8,Nf7,Bxe4,Nxd6,cxd6,Bxe4,Rxe4,Ba3,Qd5,Rad1,Rd4,c4,Qg5,Bb2,Rxd2,Rxd2,Qxd2,Bxg7,Qxa2,Rf3,Qe2,Bf8,Qe5,Bh6,d5', 'Bf4,Qxf4,Rxf4', 'https://lichess.org/training/V2bmF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2dFO', 'Rapid', 'olechka_buzava', 2035, 'Bob1949', 2027, 'e4,c5,Bc4,d6,a3,e6,d3,a6,Ba2,Nc6,f4,Nf6,Nf3,Be7,O-O,Qc7,c3,O-O,Nbd2,b5,d4,cxd4,cxd4,Bb7,b4,Qb6,Bb2,e5,fxe5,dxe5,Nb3,exd4,Bxd4,Nxd4,Nbxd4,Rad8,e5,Nd5,Qb3,Nf4,Kh1,Bxf3,Nxf3,Ne6,Rad1,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,h3,h6,Bb1,Nd4,Qd3,Nxf3', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/v2dFO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V2eIt', 'Blitz', 'Kamskyssz', 1861, 'Eiriken', 1891, 'e3,c5,b4,cxb4,a3,e6,axb4,Bxb4,c3,Be7,Nf3,Nf6,Bc4,d5,Bb5+,Nc6,Ba3,O-O,O-O,a6,Bxe7,Qxe7,d4,Bd7,Bxc6,Bxc6,Ne5,Bb5,Na3,Bc6,Nxc6,bxc6,c4,Ne4,c5,e5,f3,Nc3,Qd3,exd4,exd4,Nb5,Rfe1,Qf6,Nxb5,axb5,Rxa8,Rxa8,Qe3,h6,Qe7,Qxd4+,Kh1,Ra2,Qd6,Qb2,Rg1,Qf6,Qb8+,Kh7,h3,d4,Re1,d3,Re8,d2,Rh8+,Kg6,Qg3+,Kf5', 'Qg4+,Ke5,Qe4#', 'https://lichess.org/training/V2eIt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V2EjR', 'Rapid', 'imgomez', 1670, 'Whistle_00', 1858, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,h3,Qd6,Be2,Bd7,a3,h5,b4,Bb6,c4,c5,b5,c6,a4,a6,Nc3,axb5,cxb5,cxb5,Be3,b4,Nb5,Bxb5,axb5,Rxa1,Qxa1,O-O', 'e5,Qe6,exf6', 'https://lichess.org/training/V2EjR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V2eVG', 'Rapid', 'Baep', 1638, 'Ahad2800', 1626, 'e4,c5,d4,cxd4,c3,d3,Bxd3,e5,Nf3,Nc6,Bg5,Be7,Bxe7,Ngxe7,Na3,O-O,Nc4,d5,Ncxe5,dxe4,Bxe4,Nxe5,Qxd8', 'Nxf3+,Bxf3,Rxd8', 'https://lichess.org/training/V2eVG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V2GMe', 'Rapid', 'mokrudirps', 2177, 'AnhVu', 2282, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,exd5,Bg5,h6,Bh4,c6,e3,Be7,Bd3,O-O,Qc2,Na6,a3,c5,Bxa6,bxa6,dxc5,Bxc5,Bxf6,Qxf6,Nxd5,Qd6,Rd1,Be6,Nf4,Qc6,b4', 'Bxb4+,axb4,Qxc2', 'https://lichess.org/training/V2GMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V2gNW', 'Rapid', 'dburton', 1715, 'agunghidayat', 1746, 'd4,d6,c4,c5,dxc5,Nc6,cxd6,exd6,Bf4,Nf6,Nf3,Be7,e3,O-O,Bd3,Bg4,O-O,Nh5,h3,Nxf4,exf4,Bxf3,Qxf3,Bf6,Qh5,g6,Qb5,Qc7,Nc3,Nd4,Nd5', 'Nxb5,Nxc7,Nxc7', 'https://lichess.org/training/V2gNW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2IHq', 'Rapid', 'mariobrunstein', 1826, 'shikantaza', 1755, 'd4,e6,e4,d5,Bd3,b6,Ne2,Bb7,e5,c5,c3,c4,Bc2,b5,a3,a6,O-O,Nc6,f4,Nce7,Ng3,g6,Nd2,Nh6,Nf3,Nhf5,Bxf5,Nxf5,Nxf5,gxf5,Ng5,Qe7,Qh5,O-O-O,Qxf7,Re8,Be3,Bh6,Qxe7,Rxe7,Nh3,Rg7,Rf3,Rhg8,g3,Rg4,Nf2,Rh4,Kh1,Rh5,Rg1,Bf8,g4,Rh6,gxf5,Rxg1+,Kxg1,exf5,Rg3,Rg6,Kg2,Be7,Nh3,Bh4,Rxg6,hxg6,Bf2,Bd8,Ng5,a5,Bh4,b4,Kg3,bxa3,bxa3,a4,Nf7,Ba5,e6,Kc7,Ne5,Bxc3', 'e7,Bc6,Nxc6', 'https://lichess.org/training/v2IHq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2iIi', 'Rapid', 'BessonoWsevolod', 1658, 'Irina_2007', 1628, 'd4,d5,c4,e5,e3,exd4,exd4,Qe7+,Be3,Qb4+,Qd2,Nf6,a3,Qd6,cxd5,Nxd5,Bb5+,Nc6,Nf3,a6,Bxc6+,Qxc6,Nc3,Nxc3,Qxc3,Qe4,O-O,Bd6,Ne5,O-O,f3,Qh4,Bf2,Qg5,Be3,Qh4,Bf2,Qg5,Rfe1,f6,Ng4,f5,Ne5,f4,Re4,Bh3,Ng4,h5,gxh3,hxg4,hxg4,Rf6,Kf1,Rh6,Rae1,Qb5+,R1e2,Rxh2,Kg1,Rh6,Re8+', 'Rxe8,Rxe8+,Qxe8', 'https://lichess.org/training/v2iIi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2koG', 'Blitz', 'LolaFloresIsNotDead', 2141, 'sadricemerlang', 2205, 'Nf3,d5,b3,c5,e3,Nc6,Bb2,f6,d4,cxd4,exd4,Bd7,Bd3,e5,dxe5,fxe5,Nxe5,Nxe5,Bxe5,Nf6,Qe2,Be7,O-O,O-O,Nd2,Bc6,Nf3,Ne4,Nd4,Bf6,Nxc6,bxc6,Bxe4,dxe4,Bxf6,Qxf6,Qxe4,Rae8,Qc4+,Kh8,Rad1,Re5,Rd3', 'Qxf2+,Rxf2,Re1+,Rf1,Rfxf1#', 'https://lichess.org/training/v2koG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V2KOv', 'Rapid', 'lidhondt', 1672, 'iverson_allen', 1741, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,f5,d3,f4,d4,Bb6,b4,Nf6,Qb3,Qe7,dxe5,dxe5,a4,a6,Ba3,Nd8,Rd1,Be6,b5,Bxc4,Qxc4,Qf7,Qd3,Qe6,c4,Nf7,c5,Ba7,c6,bxc6,bxc6,Ng5,Nxg5,Qg4,Nf3,h5,Nxe5,Qg5,Qd7+,Nxd7', 'cxd7+,Kd8,Nc6#', 'https://lichess.org/training/V2KOv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2LEi', 'Classical', 'mvr295618', 1677, 'RahulPruthi27', 1683, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,Qe7,dxe5,Nxe5,Bg5,f6,Nxe5,Qxe5,Bf4,Qxf4,Qd5,Qe5', 'Qf7+,Kd8,Qxf8+', 'https://lichess.org/training/v2LEi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2LTF', 'Rapid', 'dogchmato', 2068, 'Kostya_Od', 2059, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Re1,g6,c3,Bg7,d4,cxd4,cxd4,Nf6,e5,dxe5,dxe5,Ng4,e6,Bxe6,Qa4,O-O,Nc3,Nd4,Ng5,Nxf2,Kxf2,Nxb5,Nxb5,Bd7,Qb3,Qb6+,Nd4,Bxd4+,Be3,Qf6+,Nf3,Be6', 'Bxd4,Bxb3,Bxf6,exf6,axb3', 'https://lichess.org/training/v2LTF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2M4y', 'Blitz', 'NM NB4', 2553, 'africanmorphy', 2375, 'd4,d5,Nc3,Nf6,Nf3,e6,Bg5,Be7,e3,O-O,Bd3,c5,O-O,c4,Be2,Nc6,Ne5,Nxe5,dxe5,Nd7,Bxe7,Qxe7,f4,f5,exf6,Qxf6,Qd4,a6,Rad1,b5,e4,Bb7,exd5,exd5,Nxd5,Qxd4+,Rxd4,Bxd5,Rxd5,Nf6,Re5,Rad8,Bf3,Rd2,Rf2,Rfd8,g3,h6,Rxd2,Rxd2,Re2,Rd1+,Kf2,Rb1,b3,c3,g4,Rb2,g5,hxg5,fxg5,Nd7,g6,Kf8,a4,bxa4,bxa4,a5,Bc6,Nf6,Bb5,Rb4,Re3', 'Ng4+,Kf3,Nxe3', 'https://lichess.org/training/v2M4y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2o3P', 'Rapid', 'Nysi-2010', 1987, 'alex_1953', 1968, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Nf3,a6,Bd3,c5,O-O,Nc6,dxc5,Nxc5,Re1,Qc7,Ng5,Nxe5,Nxh7,Nexd3,Nxd5,Qd6,Qh5,Rxh7,Qxh7,Nxe1,Qg8+,Qf8', 'Nc7+,Ke7,Qxf8+,Kxf8,Nxa8', 'https://lichess.org/training/v2o3P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2sdi', 'Rapid', 'Steinbron', 1893, 'Yamaarashi', 2064, 'd4,d5,Nf3,f5,Bf4,e6,e3,Nf6,h3,c6,Nbd2,Nbd7,Bd3,Ne4,h4,Be7,Bxe4,fxe4,Ng5,Nf6,f3,h6,Nh3,exf3,gxf3,Nh5,O-O,O-O,Kh2,Bxh4,Rg1,e5,Bxe5,Bxh3,Kxh3,Bf2,Rg4,Bxe3,Nb3,g5,Nc5,Qe7,Nd3,Qe6,Qh1,Nf4+,Kg3,Nxd3,cxd3,Bf4+,Kg2,Bxe5,dxe5,Kg7,Re1,Rae8,d4,Qf5,Qh3,Qc2+,Kf1,Qd3+,Kg2,Qd2+,Kf1,Qd3+,Kf2,Re6,Re3,Qc2+,Re2,Qd1,Re1,Qd2+,Re2,Qc1,Kg3,Rf4,a3,Qc4,Rd2,c5,Rxf4,gxf4+,Kxf4,cxd4,Qxe6,d3+,Ke3', 'd4+,Ke4,Qxe6', 'https://lichess.org/training/v2sdi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2tlr', 'Rapid', 'Nikapwente', 1696, 'muxtar_1717', 1659, 'd4,d5,Bf4,c6,e3,Bf5,h3,h5,Ne2,Nf6,Ng3,Bh7,Nxh5,Ne4,f3,Nd6,Ng3,e6,Bd3,Bxd3,Qxd3,Qh4,Nd2,Nf5,Nf1,g5,Bxb8,Rxb8,O-O-O,Nxg3,Nxg3,Qxg3,Rhg1,a6,e4,Bh6,Kb1,g4,hxg4,Bf4,exd5,cxd5,Qb3,Rh2,Rge1,Rxg2,Qxd5,Rd8,Qxb7,Rd2,d5,Rxd1+,Rxd1,Qxf3,Qc6+,Kf8,Qc5+,Bd6,Qg1,exd5,Rf1,Qg3,Qb6,Be7,Qh6+,Ke8,Qc6+,Rd7,Qxa6,Qxg4,Qc8+,Bd8,Re1+,Kf8,Qc5+,Be7,Qc8+,Kg7,Qc3+,f6,Qd4,Qg3', 'Rg1,Qxg1+,Qxg1+', 'https://lichess.org/training/v2tlr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V2tZl', 'Rapid', 'agent102', 1655, 'MrMano', 1612, 'e4,e6,Qf3,d5,Nh3,Nc6,Ng5,Qf6,exd5,Qxf3,Nxf3,exd5,d3,Nf6,c4,dxc4,dxc4,Bg4,Be2,Bb4+,Bd2,O-O,Bxb4,Nxb4,Na3,Rfe8,Kf1,Re6,Nb5,Re7,Nfd4,Bxe2+,Nxe2,Rae8,Nbc3,c5,Rd1,Nc6,Nf4,Ne4,Ncd5', 'Nd2+,Kg1,Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/V2tZl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V2w1U', 'Rapid', 'Laszloo', 1668, 'gardbell', 1698, 'd4,d5,c4,c6,c5,Nf6,f4,e6,e3,Be7,Nc3,Nbd7,b4,O-O,Nf3,b6,Bd3,bxc5,bxc5,a5,a4,Ba6,Qe2,Bxd3,Qxd3,Qc7,O-O,Rfb8,Ne5,Rb3,Qc2,Rab8,Ba3,Nxe5,fxe5,Ng4,Rfe1,Bg5,Bc1,Qb7,h3,Qb4,hxg4,Qxc3,Qxc3,Rxc3,Bd2,Rd3,Rab1,Rbb3,Kf2,g6,Bxa5,Bxe3+,Kf1,Bxd4,Rxb3,Rxb3,Bb6,Ra3,a5,Bc3,Rb1,Bxa5,Bxa5,Rxa5,Rc1,Kg7,g5,h6,gxh6+,Kxh6,Kf2,Kg5,Kf3,Kf5,g4+,Kxe5,Rc3,Kd4,Rc1,Rxc5,Rd1+,Ke5,Re1+,Kf6,Re3,d4,Rd3,Rd5,Ke4,e5,Rf3+,Ke6,g5,c5', 'Rf6+,Kd7,Kxd5', 'https://lichess.org/training/V2w1U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2XyT', 'Blitz', 'mystic_idiot', 1820, 'Asrar', 1874, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Be7,O-O,h6,Nc3,O-O,Bf4,c6,Bd3,Na6,Qe2,Nc7,Rfe1,Ne6,Bg3,Bd6,Nd1,Bxg3,hxg3,Qc7,Ne5,Bd7,c3,Rae8,Ne3,Ne4,Nf5,f6,Ng6,Rf7,Bxe4,dxe4,Qg4,Nf8,Nxh6+,gxh6', 'Ne7+,Kh7,Qg8#', 'https://lichess.org/training/v2XyT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v2Zbo', 'Classical', 'Kavorka1990', 1935, 'veterby', 1952, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,h3,d6,O-O,Na5,Bb3,Nxb3,axb3,O-O,Be3,Bxe3,fxe3,b6,c4,Bb7,b4,Re8,Nc3,c6,b5,c5,Qc2,Qd7,Rfd1,Nh5,d4,f6,Kh2,exd4,exd4,Nf4,dxc5,bxc5,Nd5,Bxd5,exd5', 'Re2,Qxe2,Nxe2', 'https://lichess.org/training/v2Zbo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v34zy', 'Rapid', 'vterrazas09sp', 1704, 'storres08sp', 1877, 'g4,e5,f4,exf4,h3,Bc5,e3,fxe3,dxe3,Qf6,h4,d5,c3,h6,Qxd5,b6,Qd1,Ne7,Qf3,Nbc6,Qe2,Nd5,Nd2,Nxe3,Qf3,Nxf1,Qxf1,Na5,Qe2+,Be6,Qd3,Rd8,Qh3,Rd5,Ndf3,Qd8,g5,hxg5,hxg5,f6,Qxh8+,Kf7,Qh2,fxg5,Nxg5+,Kg6,Nxe6', 'Rd1+,Ke2,Qd3#', 'https://lichess.org/training/v34zy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V3aNB', 'Rapid', 'AOG67', 2239, 'Final_Account', 2355, 'Nf3,d5,b3,Nf6,Bb2,c5,e3,Nc6,Bb5,e6,Bxc6+,bxc6,Ne5,Qc7,O-O,Bd6,f4,O-O,d3,Nd7,Nxd7,Qxd7,Nd2,f6,Qf3,Ba6,Qh3,Rab8,Ba3,Qe7,Rf3,e5,f5,e4,dxe4,dxe4,Rf2,Be5,Rb1,Bc3,Nf1,Rfd8,Ng3,Rd5,Qg4,Rbd8,h3,Rd1+', 'Rxd1,Rxd1+,Qxd1', 'https://lichess.org/training/V3aNB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3BJx', 'Classical', 'margaridata', 1811, 'TheWinChesster', 1710, 'd4,d5,c4,dxc4,Nc3,a6,a4,c5,d5,e5,e4,Bd7,Bxc4,h6,Nf3,Bd6,O-O,Qf6,Ne2,Ne7,Ng3,Bg4,h3,Bxf3,Qxf3,Qxf3,gxf3,Ng6,Nf5,Bf8,Bd2,Nd7,Kh2,Ne7,Nd6+,Kd8,Nxf7+,Kc7,Nxh8,g5,Nf7,Kb6,a5+,Ka7,b4,Ng6,b5,axb5,Bxb5,Nf6,Be3,Nh4,Nxe5,Bd6,f4,gxf4,Bxf4,Nxe4,f3,Nc3,Ra3,Nxb5,Rb3,Ka6,Kg3,Nf5+,Kh2,Nfd4,Rb2,Rg8,Rg2,Rxg2+,Kxg2,c4,Kg3,c3,Nc4', 'Ne2+,Kf2,Nxf4', 'https://lichess.org/training/v3BJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V3dOX', 'Rapid', 'CHAFin', 1923, 'Salvator95', 1847, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Nf6,O-O,Bd7,Re1,a6,Be2,Nxe4,d4,Be7,dxe5,Nxe5,Nxe5,dxe5,Bc4,Nd6,Bb3,Bf6,Nc3,O-O,Nd5,Re8,c4,c6,Nxf6+,Qxf6,Bd2,Nf5,c5,Nd4,Bc4,Be6,Bd3,Rad8,Bc3,Bf5,Bxf5,Nxf5,Qb3,Rd7,Rad1,Rxd1,Qxd1,Rd8,Qe2,Rd5,b4,Qe7,f4,f6,fxe5,fxe5,Bxe5,Nh6,Bd6,Qxe2,Rxe2,Rd1+,Kh2,Nf5,Bg3', 'Rh1+,Kxh1,Nxg3+,Kg1,Nxe2+', 'https://lichess.org/training/V3dOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3Ewm', 'Rapid', 'yardendan', 1745, 'TomMarvRiddle', 1795, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h6,h5,Bh7,f4,e6,Nf3,c5,Bb5+,Nc6,Nbd2,cxd4,Nxd4,Qb6,N2b3,a6,Ba4', 'Qb4+,c3,Qxa4', 'https://lichess.org/training/v3Ewm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3HtN', 'Classical', 'bugraaydin521234', 1709, 'ProfMrxD', 1686, 'd4,g6,Nc3,Bg7,Nf3,Nf6,e4,d6,Bc4,Bg4,O-O,e6,Re1,Nbd7,Be2,Bxf3,Bxf3,e5,dxe5,dxe5,Bg5,O-O,Bxf6,Nxf6,Qe2,Re8,Red1,Qe7,Rd3,c6,Rad1,Rad8,Qd2,Rxd3,cxd3,Nh5,Bxh5,gxh5,Qe3,b5,Qg3,Kh8,b4,Rg8,Qh3,Bh6,Qxh5,Qf8,Qxe5+', 'Bg7,Qc5,Qxc5,bxc5,Bxc3', 'https://lichess.org/training/v3HtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3Lob', 'Rapid', 'REASEN', 1827, 'aliyildiz224', 1829, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bb5,Nge7,Nd5,Nxd5,exd5,Nd4,Nxd4,Bxd4,c3,Bc5,O-O,O-O,d4,exd4,cxd4,Bd6,Bd2,c6,Bd3,Bc7,Qc2,h6,f4,Qh4,Rf3,f5,Bxf5,d6,Bh7+,Kh8,Rg3,Bd7,Rf1,Bb6,Qd3,c5,Rg6,Bb5,Qxb5,Kxh7,Rxd6,Rad8,Rxd8,Rxd8,dxc5,Rxd5,cxb6', 'Rxb5,bxa7,Qd8', 'https://lichess.org/training/v3Lob');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3Mbw', 'Blitz', 'dalefi', 1655, 'Roma5577', 1675, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,b3,O-O,Bb2,Bd7,Qd2,Nc6,O-O-O,Nxd4,Qxd4,Bc6,Bd3,Nd7,Nd5,f6,Nxe7+,Qxe7,f4,a6,g4,Rae8,Rde1,Nc5,e5,Nxd3+,cxd3,dxe5,fxe5,fxe5,Rxe5', 'Qxe5,Qxe5,Rxe5,Bxe5,Bxh1', 'https://lichess.org/training/v3Mbw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V3mnS', 'Rapid', 'huevodiestro', 1708, 'Masachus', 1800, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Bb4,e5,Qe7,f4,O-O,Bd2,Bxc3,Bxc3,Ne4,Qd3,Qh4+', 'g3,Nxg3,Qxg3,Qxg3+,hxg3', 'https://lichess.org/training/V3mnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3mX1', 'Rapid', 'Abo3zab', 1718, 'Olga23', 1776, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,a3,b5,Bd2,Bb7,Bd3,Nf6,O-O,Nc6,Nxc6,dxc6,Re1,e5,b4,c5,Na2,c4,Be2,Nxe4,Bf3,Nxd2,Bxb7,Qxb7,Rxe5+,Be7,Qxd2,O-O,Rae1,Bf6,R5e4,Rfd8', 'Qxd8+,Rxd8,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/v3mX1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3OUK', 'Rapid', 'Tukentokio', 1843, 'Nihalchess', 1831, 'e4,e5,Bc4,Bc5,Nf3,Nc6,Nc3,Nf6,d3,h6,Be3,Bb6,Qd2,d6,O-O,Bg4,Ne1,O-O,f3,Bh5,Qf2,Nh7,Bxb6,axb6,Qg3,Qg5,Qf2,Nd4,Nd5,c6,Ne3,Kh8,c3,Ne6,Nf5,Rad8,Qxb6,Rd7,Qf2,g6,Ng3,Nf4,Nxh5', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/v3OUK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3PsK', 'Blitz', 'Mohammedsleiman', 1967, 'justbullet000011', 1923, 'e4,c6,d4,d5,Nc3,dxe4,f3,exf3,Nxf3,Nf6,Bf4,Bg4,Be2,e6,O-O,Bd6,Qd2,O-O,h3,Bxf3,Bxf3,Nd5,Bxd6,Qxd6,Ne4,Qe7,c4,Nb6,c5,Nd5,Nd6,b6,Bxd5,cxd5,b4,bxc5,bxc5,Nc6,Rab1,Rab8,a4,Rxb1,Rxb1,Rb8,Rxb8+,Nxb8,Qa5,Nc6,Qd2,Qf6,Nb5,a6,Nc7,Qxd4+,Qxd4,Nxd4,Nxa6,Nc6,Kf2,d4,Ke2,e5,Kd3,f5,Nc7,e4+,Kd2,Kf7,Nd5,Ke6,Nc7+,Kd7,Nb5,Na5,Nxd4,f4,Nf5,g6,Nd4,Nc4+,Kc3,Na5,Kb4', 'Nc6+,Kc4,Nxd4,Kxd4,e3', 'https://lichess.org/training/v3PsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3RXv', 'Rapid', 'hamoda0022', 1924, 'naders307', 2011, 'b3,c6,c4,d5,cxd5,cxd5,Bb2,Bf5,e3,e6,d4,Nf6,Nf3,Bb4+,Nbd2,Nc6,a3,Bxd2+,Qxd2,O-O,Bd3,Bxd3,Qxd3,Rc8,O-O,a6,Nd2,Qc7,f3,Na5,Rac1,Qd7,e4,dxe4,fxe4,Rxc1,Rxc1,Rc8,Nc4,Nxc4,bxc4,h6,d5,exd5,Bxf6,gxf6,Rf1,Rxc4,exd5,Rc5,Rxf6,Rxd5,Qg3+,Kf8,h3,Rg5,Qh4,Qd1+,Kh2,Rh5,Qf4,Qd5,g4,Rh4,Rxh6,Rxh6,Qxh6+,Ke7,Qe3+,Kd6,h4,b5,Qb6+,Qc6', 'Qxc6+,Kxc6,h5', 'https://lichess.org/training/v3RXv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3vVq', 'Rapid', 'Thibison', 1969, 'ko4edikov13', 1983, 'e4,Nf6,Nc3,d6,Bc4,Bg4,f3,Bh5,d3,e6,Nge2,Be7,g4,Bg6,h4,h6,h5,Bh7,Ng3,c6,a3,Nbd7,Be3,Qc7,Bf2,d5,exd5,cxd5,Bb3,Rc8,Qd2,a6,g5,hxg5,Qxg5,Qe5+,Qxe5,Nxe5,Ke2,b5,f4,Neg4,Bd4,O-O,Nd1,Nd7,Nf2,Nh6,Rag1,Bc5,Bxg7,Bxf2,Kxf2,Kxg7,Nf5+,Kh8,Nxh6,Nc5,Ba2,Na4,Bb1,Nxb2,Rg3,a5,Rhg1,b4,axb4,axb4,Rg7,b3,cxb3,Nxd3+', 'Bxd3,Bxd3,Nxf7+,Rxf7,Rxf7', 'https://lichess.org/training/v3vVq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V3x7r', 'Rapid', 'SebDiez', 1872, 'Zurabi1234', 1850, 'e4,e5,f4,Qh4+,g3,Qe7,Nc3,exf4,Bg2,fxg3,hxg3,c6,d4,d5,Qe2,Be6,exd5,Bxd5,Qxe7+,Nxe7,Nxd5,Nxd5,Bd2,Na6,a3,Bd6,Ne2,O-O-O,O-O-O,Rde8,Nf4,Nxf4,Bxf4,Bxf4+,gxf4,g6,d5,cxd5,Rxd5,Re7,f5,Rhe8,Bh3,Re1+,Rxe1,Rxe1+,Kd2,Rh1,Rd3,f6', 'fxg6+,Rxh3,Rxh3', 'https://lichess.org/training/V3x7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3XEz', 'Blitz', 'FM Ahmdnjr12512', 2254, 'Halim-Mansour', 2230, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bc4,e6,d3,Nge7,O-O,Na5,Bb3,a6,e5,b5,Ne4,O-O,Nxc5,d6,Ne4,Nf5,c3,Nxb3,axb3,h5,d4,Bb7,Qe2,Qb6,b4,dxe5,fxe5,Rac8,Nf6+,Bxf6,exf6,Bxf3,Qxf3,e5,Be3,exd4,cxd4,Rfd8,Kh1,Nxe3,Qxe3,Qxd4', 'Qh6,Qxf6,Rxf6', 'https://lichess.org/training/v3XEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v3xsW', 'Rapid', 'Herobrine666', 1892, 'yzwikk', 1762, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Qf3,Bxe4,Qxe4,Nf6,Qd3,e6,Nf3,Be7,Be2,O-O,O-O,Nd5,c3,Nd7,Re1,N7b6,b3,c5,Bb2,cxd4,cxd4,Nf4,Qd2,Nbd5,Bc4,Bb4,Qc2,Bxe1,Rxe1,Rc8,Qe4,a6,Bxd5,Nxd5,Bc1,Qb6,Ng5,Nf6,Qe2,h6,Nf3,Nd5,Bb2,Rc6,Ne5,Rc7,Ba3,Rfc8,Bc5,Qb5,Qf3,Nf6,Nc4,Nd5,Nd6,Qa5,b4,Nxb4,Nxc8,Rxc8,Rb1,Nxa2,Ra1,Qd2,Qxb7,Rd8,Qxa6,Nc3,h3,Ne4,Qa2,Qg5,Qe2,Nc3,Qg4,Qxg4,hxg4,Ne4,f3,Nxc5,dxc5,Rc8,Rc1,Kf8,Kf2,Ke7,Ke3,Kd7,f4,Kc6,f5,e5,Ke4,f6,g3,Rd8,Rc4,Kb5,Rc1,Rd4+,Kf3,Rc4', 'Rxc4,Kxc4,c6', 'https://lichess.org/training/v3xsW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V3ZBl', 'Rapid', 'junior105010', 2015, 'NC_Gladiator', 1953, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,cxd6,h3,Nc6,Nf3,Bf5,a3,a5,Nc3,e6,Bd3,Bxd3,Qxd3,Be7,O-O,O-O,Bd2,Rc8,b3,Bf6,Rad1,Nd7,Ne4,d5,Neg5,g6,cxd5,exd5,h4,h6,Nh3,h5,Bh6,Bg7,Bxg7,Kxg7,Rfe1,Nf6,Nhg5,Re8,Rxe8,Qxe8,Re1,Qd8,Ne5,Nxe5,dxe5,Ng4,e6,f6,e7,Qd7,Qd4,Re8,Ne6+,Kf7,Nc5,Qc6,Nd3,Rxe7,Rxe7+,Kxe7,f3,Nh6', 'Qe3+,Kd8,Qxh6', 'https://lichess.org/training/V3ZBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v445A', 'Blitz', 'Bim100', 1582, 'Movz', 1537, 'f4,d5,Nf3,c5,e3,Nc6,c3,Bf5,d4,Nf6,Bd3,Bxd3,Qxd3,e6,O-O,c4,Qe2,Bd6,Nbd2,O-O,Ne5,Rc8,Ndf3,Ne4,Bd2,f6,Nxc6,bxc6,Rac1,e5,fxe5,fxe5,Nxe5,Re8,Nf7,Qe7,Nxd6,Qxd6,b3,cxb3,axb3,Qa3,Rb1,Rb8,c4,Rxb3,Rxb3,Qxb3,cxd5,cxd5,Bc1,a5,Qf3,Qb7,Ba3,Nd2', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/v445A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v44st', 'Bullet', 'tillulen', 1709, 'ROYALKING-1', 1984, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b3,Nf6,d3,O-O,Bb2,Qe7,O-O,d6,Re1,Bg4,h3,Bh5,Nbd2,Rad8,a3,Na5,b4,Nxc4,bxc5,Nxd2,Qxd2,dxc5,Nxe5,Rfe8,Nc4,b5,Ne3,Nxe4,Qa5,Qg5,dxe4,Rxe4,Rad1,Rde8,Qxb5,Bf3,Bc3,Rxe3', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/v44st');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V45Fz', 'Rapid', 'PieceOfCheckmate', 1684, 'Suppenkaspar', 1875, 'Nf3,f5,d4,Nf6,c4,e6,g3,Be7,Bg2,O-O,O-O,c6,Nc3,d5,cxd5,cxd5,Qc2,Bd7,Bd2,Nc6,Ne5,Nb4,Qb3,Rc8,a3,Nc6,Qxb7,Nxe5,dxe5,Ne4,Nxe4,fxe4,f3,Rc2,Rad1,Bc5+,Kh1,e3,Qb3', 'Rxd2,Rxd2,exd2', 'https://lichess.org/training/V45Fz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4AQk', 'Rapid', 'Eliseo7777', 1788, 'BachMozart', 1781, 'Nf3,d5,b3,c6,Bb2,Nf6,e3,Bf5,Be2,e6,O-O,Nbd7,d3,Bd6,d4,h6,Nbd2,O-O,c4,Ne4,cxd5,exd5,Bd3,Nxf2,Rxf2,Bxd3,Ne5,Nxe5,dxe5,Bc7,Nf3,Be4,Qd4,Qe7,e6,f6,Raf1,Bb6,Qd2,Qxe6,Nd4,Bxd4,Qxd4,Rae8,Qd1,c5,Qh5,Qf7,Qg4,Qg6,Qh3,Re7,Rf4,Ref7,Rg4,Qh7,Qg3,h5,Rgf4,Bg6,Qh4,b5,R1f3,c4,bxc4,dxc4,Rd4,a6,Rd6,a5,Rf4,Rc8,Bxf6,gxf6,Rdxf6,Rxf6,Qxf6,c3', 'Qe6+,Kg7,Qxc8', 'https://lichess.org/training/v4AQk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4bWj', 'Bullet', 'elsombra', 1977, 'FM arimakat', 2185, 'd4,d5,c4,dxc4,Nf3,a6,e3,b5,a4,Bb7,axb5,axb5,Rxa8,Bxa8,b3,e6,bxc4,bxc4,Bxc4,Nf6,O-O,Bd6,Qa4+,Nbd7,Ne5,O-O,Nc6,Nb6,Qb5,Qd7,Ne5,Qc8,Be2,Nfd5,Bd2,Qb7,Bf3,Qc8,Rc1,Qd8,Nc3,Nxc3,Bxc3,Bxf3,Nxf3,Nd5,Bd2,Qa8,h3,Rb8,Qd3,h6,Ne5,Qa2,Rc2,Rb2,Rxb2,Qxb2,Nc4', 'Qa1+,Qf1,Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/v4bWj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4cjY', 'Classical', 'Steisha', 1744, 'albiter', 1842, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb4+,Nbd2,d6,O-O,Bg4,a3,Ba5,Rb1,Nxd4,h3,Bh5,Rxb7,Bxd2,Bxd2,Nxf3+,gxf3,Nf6,Qc2,O-O,f4,d5,exd5,Nxd5,Bxd5,Qxd5,Rxc7,Bg6,Rc5,Qf3,Qc3,Qb7,f5,Bh5,f6,g6,Qc4,Rfc8,Rxc8+,Rxc8,Qd4,Qf3,Qd7,Ra8,Rc1,Qxf6', 'Rc8+,Rxc8,Qxc8+,Kg7,Bc3', 'https://lichess.org/training/v4cjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V4E5i', 'Blitz', 'NM determinedalways', 2318, 'Karajillo', 2298, 'c4,e6,Nc3,d5,cxd5,exd5,d4,c6,Bf4,Bf5,Qb3,Qb6,Qxb6,axb6,e3,Nd7,Kd2,Ngf6,f3,h6,h4,b5,Bd3,Bxd3,Kxd3,b4,Nce2,Be7,g4,O-O,Nh3,Ra6,g5,Nh5,gxh6,Nxf4+,Nhxf4,gxh6,Ng3,Rfa8,Nf5,Bf6,Nxh6+,Kf8,Rag1,Rxa2', 'Rg8+,Ke7,Nf5#', 'https://lichess.org/training/V4E5i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V4ECD', 'Classical', 'Nar_23', 1648, 'ThalT', 1683, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,c3,Ng4,h3,Nf6,Be3,Qe7,Bxc5,Qxc5,b4,Qe7,a4,d5,exd5,Nd8,Qb3,Nh5,Re1,Qf6,Rxe5,Qg6,Nbd2,Bxh3,Rg5,Qd6,gxh3,Nf4,Ne5', 'Nxh3+,Kg2,Nxg5', 'https://lichess.org/training/V4ECD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4Fab', 'Rapid', 'bams', 1706, 'azer1964', 1810, 'c4,e5,Nc3,Nf6,g3,Be7,Bg2,O-O,e3,c6,h4,d6,h5,h6,d4,exd4,exd4,Qa5,Bd2,Bg4,f3,Bxh5,Nge2,Bg6,Nf4,Qa6,Nxg6,fxg6,g4,Qxc4,Bf1,Qxd4,Qc2,Qe5+,Be2,g5,Qg6,Nh7', 'Rxh6,Rf6,Qxh7+', 'https://lichess.org/training/v4Fab');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4fCP', 'Rapid', 'kakky', 1721, 'adarsh1607', 1672, 'c4,e5,g3,Nc6,Bg2,Bc5,e3,Nf6,a3,O-O,Nc3,d6,b4,Bb6,Nge2,Be6,d3,d5,cxd5,Bxd5,Nxd5,Nxd5,Qb3,Nce7,Bb2,f6,O-O,Kh8,Rac1,c6,d4,Nf5,dxe5,fxe5,e4,Nfe3,exd5,Nxf1,Kxf1,Rxf2+,Ke1,Qf8,Be4,Rf1+,Kd2,cxd5,Rxf1,Qxf1,Qxd5', 'Rd8,Qxd8+,Bxd8', 'https://lichess.org/training/v4fCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4Gvv', 'Blitz', 'M-Shamsiddin', 2095, 'Jakob2000', 1911, 'd4,Nf6,e3,d5,Nf3,e6,Bd3,Be7,O-O,O-O,Nbd2,c5,c3,Nc6,Qe2,b6,e4,dxe4,Nxe4,Bb7,Nxf6+,Bxf6,dxc5,bxc5,Be3,Qa5,a3,Rad8,Rad1,e5,Bb1,Ne7,Ng5,h6,Ne4,Bxe4,Bxe4,Bg5,Bxg5,hxg5,Qh5,f5,Bb1,g4,Qg5,Qc7,Ba2+,c4,Rxd8,Rxd8,Bxc4+,Qxc4,Qxe7,Rd5,Qxa7,f4,Qb8+,Kh7,Qb4,Qd3,Qe7,f3,Qh4+,Kg8,Qxg4', 'Qxf1+,Kxf1,Rd1#', 'https://lichess.org/training/v4Gvv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V4HoW', 'Rapid', 'vitaly_236', 1926, 'Kavi1223', 2003, 'e4,e5,Bc4,Nf6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Nc3,Be6,Qh5+,g6,Qxe5,Bg7,Qf4+,Bf6,g4,Qe7,g5,Bf5+,Qe3,Bxg5,Qxe7+,Kxe7,d3,Bxc1,Rxc1,c6,Nf3,Kf6,Nh4,Re8+,Kd2,Nd7,Nxf5,gxf5,Rcg1,Ne5,Rg3,Ng4,f3,Ne5,Rhg1,f4,Rh3,Rg8,Rh6+,Kf5,Rxg8,Nxf3+,Kc1,Rxg8,Rxh7,Nd4,Rxb7,f3,Nd1,Rg1,c3,Ne6,Kd2,Rg2+,Ke3,Ng5,h4', 'Re2+,Kd4,Ne6#', 'https://lichess.org/training/V4HoW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V4hSE', 'Blitz', 'mlemos', 1586, 'William-King', 1566, 'e4,b6,Nf3,Bb7,Nc3,e6,Bc4,Be7,d4,h5,Bf4,g5,Be5,f6,Bg3,h4,Bxh4,gxh4,d5,e5,Bb5,a6,Be2,d6,a4,Qd7,b4,Qg4,O-O,h3,g3,Nd7,Nxe5,Qg7,Bh5+,Kd8,Nf7+,Kc8,Nxh8,Qxh8,Bg4,Nh6,Bxh3,Qf8,Qh5,Nf7,Qg4,Ne5,Qf5,Qh6,f4,Kb8,fxe5,Nxe5,b5,Qe3+,Kh1,Qxc3,bxa6,Bxa6,a5,Bxf1,a6,Qxa1', 'Qc8+,Ka7,Qb7#', 'https://lichess.org/training/V4hSE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4kfY', 'Blitz', 'tallover', 1878, 'shiroikaeru', 1906, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,f4,e6,Bc4,Be7,Nf3,h6,Qe2,Nf6,Bb3,Nbd7,c3,O-O,Bd2,Nb6,O-O-O,Re8,Rhe1,Qc7,Ne5,Bh7,Nxf7,Kxf7', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/v4kfY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4Le9', 'Blitz', 'Ata8568', 1792, 'woody01', 1776, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,e5,Nd5,Bd2,Nxc3,bxc3,Ba5,Qg4,g6,Bd3,Qc7,O-O,Qxe5,Bh6,Bxc3,Nf3,Qa5,Rab1,Qxa2,Qf4,Nc6,Ng5,f5,g4,Be5,Qf3,Qd5,Qe2,Nd4,Qe3,f4,Qh3,b6,Rfe1,Bb7,f3,Bd6,Be4,Qc5,Bxb7,Nxc2+,Kg2,Nxe1+,Rxe1,Qc2+,Kf1,Rb8,Be4,Qc3,Qg2,Bb4,Rd1,a5,Nxh7,Kf7,Qh3,Rxh7,Bxg6+,Kxg6,Qh5+,Kf6,Bg5+,Kg7', 'Rxd7+,Be7,Rxe7+,Kf8,Qxh7', 'https://lichess.org/training/v4Le9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V4mko', 'Blitz', 'Shairbek85', 1716, 'Rho_chess', 1711, 'd4,e6,Bf4,d5,e3,Nf6,Nf3,Nh5,Bg3,Nxg3,hxg3,c5,c3,Nc6,Bd3,c4,Bc2,b5,a3,a5,Nbd2,Bb7,Qe2,b4,e4,b3,Bb1,a4,exd5,Ne7,dxe6,Bxf3,Nxf3,Qd5,exf7+,Qxf7,Ne5,Qe6,O-O,g6,Qe4,Bg7,Re1,O-O,Qh4,Qf6,Re2,Qxh4,gxh4,Bxe5,dxe5,Nd5,Be4,Rad8,Rd1,Nf4,Ree1,Rxd1,Rxd1,Re8,Rd4,Rxe5,Rxc4,Ne2+,Kh2,Kf7,Rxa4,Kf6,Bd3,Nc1,Bc4,Rh5,g3,Re5,Rb4,Kf5,Bxb3,Re2,Bg8,Nd3,Rb5+,Ke4,Bxh7,Nxf2,Bxg6+,Kf3,Bh5+', 'Ng4+,Kg1,Re1#', 'https://lichess.org/training/V4mko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4oTa', 'Classical', 'mohammad-akil', 1645, 'ropinva', 1614, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bd3,g6,O-O,Bg7,c3,O-O,Nf3,Bg4,Re1,Nc6,h3,Bxf3,Qxf3,Ne5,Qe2,Nxd3,Qxd3,Qd7,Na3,Qc6,b4,a6,Nb1,Nd7,a4,Ne5,Qd5,Qxd5,exd5,c6,dxc6,Nxc6,Bf4,d5,Rd1,Nxb4', 'Bd6,Nc6,Bxf8', 'https://lichess.org/training/v4oTa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V4ozZ', 'Rapid', 'GregMillsUSA1', 1750, 'yellow_pit1', 1707, 'e4,e5,Qf3,Nc6,Bc4,Nf6,c3,Bc5,d3,d6,h3,O-O,g4,Ne7,Bg5,Be6,Bxf6,gxf6,Qxf6,Bxc4,dxc4,Ng6,Qf3,c6,Ne2,Qb6,Ng3,Qxb2,O-O,Qxa1,Nd2,Qxa2,Rd1,a5,Nf5,a4,g5,a3', 'Nh6+,Kg7,Qf6#', 'https://lichess.org/training/V4ozZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V4Pmv', 'Blitz', 'Banjomaestro', 1507, 'jdapoorv', 1525, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,e5,Ng4,d4,h5,h3,Qh4,Qf3,Nxe5,dxe5,Bc5,Be3,Bg4,Qf4,Bxe3,Qxe3,O-O-O,Nd2,Rhe8,Be2,Bxe2,Qxe2,f6,O-O-O,Rxe5,Qc4,Qxf2,Rhg1,Rxd2', 'Qg8+,Kd7,Rxd2+,Qxd2+,Kxd2', 'https://lichess.org/training/V4Pmv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4pR8', 'Classical', 'alexandr_selivan', 1880, 'Wacchess', 2145, 'e4,c5,c3,Nf6,e5,Nd5,d4,d6,Nf3,Bg4,Bc4,Nb6,Bb3,e6,h3,Bh5,Bf4,Nc6,exd6,Bxd6,Bxd6,Qxd6,dxc5,Qxc5,O-O,Ne5,Nbd2,Rd8,Qe2,Nd3,Ne4,Qc7,Rad1,Nf4,Qb5+,Qc6,Rxd8+,Kxd8,Qg5+,f6,Qxf4,e5,Rd1+,Ke7,Qe3,Bg6,Nc5,a5,Nh4,a4,Nxg6+,hxg6,Be6,Ra8,Bg4,Ra5,Nd3,Nc4,Qe2,f5,Nb4,Qe6,Bf3,e4,Re1,Re5,b3', 'exf3,Qxe5,Nxe5', 'https://lichess.org/training/v4pR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4Sm8', 'Rapid', 'Floxer', 1788, 'stefcon', 1814, 'd4,Nf6,e3,d5,c4,e6,cxd5,exd5,Nf3,c5,dxc5,Bxc5,a3,Nc6,Bd3,O-O,O-O,Bg4,Be2,Qb6,b4,Bd6,Bb2,Ne4,Nc3,Nxc3,Bxc3,Qc7,Rc1,Bxf3,Bxf3,Bxh2+,Kh1,Be5,Bxe5,Qxe5,Rc5,Rad8,Qb3,Rd6,Bxd5', 'Rh6+,Kg1,Qh2#', 'https://lichess.org/training/v4Sm8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4T3y', 'Classical', 'shariph', 1747, 'udalovff', 1679, 'd4,c6,Nf3,d5,e3,Bf5,Bd3,e6,Bxf5,exf5,O-O,Bd6,b3,Ne7,Bb2,O-O,Nbd2,Nd7,c4,Nf6,cxd5,Nexd5,Nc4,Bc7,Re1,Ne4,Ncd2,Qd6,g3,f6,Nxe4,fxe4,Nd2,f5,Qc2,Qh6,Qc4,Qh3,Nb1,Rf6,Qf1,Qh5,h4,Qg4,Qg2,Rh6,Nc3,Ba5,Rec1,Nxc3,Bxc3,Bxc3,Rxc3,a5,Rc2,Rd8,Rac1,Rdd6,Rc5,b6,R5c2,Rdg6,a4,Rxh4,Rxc6', 'Rxc6,Rxc6,Qd1+,Qf1,Rh1+,Kxh1,Qxf1+', 'https://lichess.org/training/v4T3y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4TF1', 'Rapid', 'avrizalhk', 1612, 'Calipso1962', 1614, 'e4,g6,Ne2,Bg7,Ng3,b6,d3,Bb7,Be2,d5,f3,d4,O-O,Nc6,Bg5,h6,Bf4,e5,Bd2,Nf6,Qc1,Qe7,a3,h5,Bd1,h4,Ne2,h3,g3,Nh5,b4,Rh7,b5,Nd8,g4,Nf6,Ng3,Qf8,f4,Nxg4,Bxg4,exf4,Bxf4,Bh6,Qe1,Bxf4,Rxf4,Qd6,Qf2,Ne6,Rf6,O-O-O,Nd2,Qe7,a4,Rh4,Bxe6+,fxe6,Ndf1,e5,a5,Rf4,Rxf4,exf4,Qxf4,Rf8,Qg4+,Kb8,axb6,cxb6,Qxg6,Qf6,Qg4', 'Qf2+,Kh1,Qg2#', 'https://lichess.org/training/v4TF1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V4Vwt', 'Rapid', 'Nihad64', 1891, 'Trottel2017', 1930, 'b3,e5,Bb2,Nc6,e3,d5,Nf3,Bd6,Bb5,Ne7,Nxe5,O-O,Nxc6,bxc6,Be2,Ng6,Bg4,Qg5,h3,f5,Bf3,h5,Nc3,d4,Bxc6,dxc3,Bxc3,Rb8,Qe2,Bb7,Qf3,Nh4', 'Qd5+,Kh7,Bxb7', 'https://lichess.org/training/V4Vwt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V4x7I', 'Rapid', 'hnj', 1991, 'regis64', 2010, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,d6,d4,e4,Nd2,Be7,Ndxe4,Nxe4,Nxe4,Bf5,Bd3,O-O,a3,Bg6,Nc3,Re8,Bxg6,hxg6,b4,Bf6,O-O,Qd7,Qd3,Qf5,Qxf5,gxf5,Nd5,Bd8,Bb2,f6,Rac1,Kf7,c5,dxc5,Rxc5,Be7,Rc2,Rh8,Nxe7,Kxe7,b5,Na5,Rxc7+,Ke6,Rxg7,Nc4,Bc1,Rac8,Rxb7,Nd6,Rxa7,Ne4,a4,Nc3,Ra6+,Kd5,Ba3', 'Ne2+,Kh1,Rxh2+,Kxh2,Rh8#', 'https://lichess.org/training/V4x7I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v4xhX', 'Classical', 'jcanon', 1847, 'elvann', 1832, 'd4,g6,Bf4,f6,e3,Nh6,h3,Nf7,c3,Bg7,Nd2,O-O,Be2,d6,Ngf3,c6,Qc2,Nd7,e4,e5,dxe5,fxe5,Be3,Qc7,h4,b6,h5,g5,Nxg5,Nxg5,Bxg5,h6,Be3,Nf6,O-O-O,Be6,Nc4,Rad8,Qd2,d5,exd5,cxd5,Na3,d4,Qc2,dxe3,Rxd8,Rxd8,fxe3,Ng4,Qg6,Qd6,Nc4,Bxc4', 'Bxc4+,Kh8,Qxg4', 'https://lichess.org/training/v4xhX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V4zYh', 'Blitz', 'INDOIWONG', 1981, 'small_fingers', 1641, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,bxc6,Nc3,Nf6,Bg5,h6,Bxf6,exf6,O-O-O,Be7,Nh4,O-O,Nf5,Bxf5,exf5,d5,g4,Qc7,f4,Bd6,Ne2,a5,g5,fxg5,fxg5,hxg5,h4,Bf4+,Kb1,Rfe8,hxg5,Rxe2,g6,Qe5,Qb6,Rb8,gxf7+,Kxf7,Qa7+,Qc7,Qg1,Bg3,Rh3,Be5,Qg6+,Kf8', 'Rh8+,Ke7,Qe6#', 'https://lichess.org/training/V4zYh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v526e', 'Blitz', 'Lalves_1968', 1944, 'frawi', 1947, 'e4,c5,d4,cxd4,Nf3,Nf6,Nxd4,Nxe4,Bd3,d5,O-O,Nc6,Nxc6,bxc6,f3,Qb6+,Kh1,Nf2+,Rxf2,Qxf2,Nc3,e5,Bf1,Bc5,Be2,O-O,Bg5,Bf5,Na4,Be3,g4,Bxg5,gxf5,Rab8,b3,Rb4,c4,Rd8,Qe1,Qxe1+,Rxe1,dxc4,Bxc4,Rd2,Rxe5,h6,Re4,Rb8,Nc5,Rxa2,b4,Rd8,Bf1,Rd1,Kg1,Raa1,h4,Rxf1+,Kg2,Bf6,Re8+,Kh7,Nd7,Rfb1,Nf8+,Kg8,Nd7+,Kh7', 'Nf8+,Kh8,Ng6+,Kh7,Rh8#', 'https://lichess.org/training/v526e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v56sR', 'Classical', 'kermit19', 1620, 'OlegNK', 1727, 'e4,e5,Nf3,d6,Nc3,Be7,d4,exd4,Qxd4,Nf6,e5,Ng4,exd6,cxd6,Bb5+,Nc6,Qxg7', 'Bf6,Qxh8+,Bxh8', 'https://lichess.org/training/v56sR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V57Pn', 'Rapid', 'esaiasS', 1687, 'Haragon', 1698, 'e4,c5,Nc3,d6,f4,Nf6,Nf3,Nc6,Bb5,Bd7,Bxc6,Bxc6,d3,e6,O-O,Be7,Qe1,O-O,e5,dxe5,fxe5,Nd5,Ne4,f6,exf6,Nxf6,Nxf6+,Bxf6,Qxe6+,Kh8,Kh1,Bd4,Bg5,Qc7,Nxd4,Rxf1+,Rxf1,cxd4,Rf7,Qa5,Bh6,Rg8,Bxg7+,Rxg7', 'Rf8+,Rg8,Rxg8#', 'https://lichess.org/training/V57Pn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V57wF', 'Rapid', 'stepan0011', 1643, 'Korthang', 1658, 'b3,c5,Bb2,d6,e4,Nc6,Bb5,a6,Bxc6+,bxc6,Na3,e6,Qf3,Nf6,O-O-O,Be7,Nc4,O-O,Ne2,e5,c3,Bg4,Qe3,a5,f3,Be6,d4,cxd4,cxd4,exd4,Nxd4,Bxc4,bxc4,Qb6,Rhe1,Rab8,Rd2,d5,Nf5,Qxe3', 'Nxe7+,Kh8,Rxe3', 'https://lichess.org/training/V57wF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v5den', 'Blitz', 'Avispon_Verde', 2103, 'Etrn4l', 2082, 'c4,e5,d3,Nc6,Nc3,d6,e3,Nf6,Nf3,g6,g3,Bg7,Bg2,Be6,a3,O-O,b4,Ne8,Bb2,f5,b5,Ne7,Ng5,Bc8,a4,h6,Nh3,g5,a5,Be6,Bxb7,Rb8,Bg2,Ng6,a6,f4,exf4,gxf4,Be4,Bxh3,Bxg6,fxg3,hxg3,Qf6,Qe2,Bg4,Qxg4,Qxf2+,Kd1,Qxb2,Rc1,Rf2,Ne4,Rg2,Qf3,d5', 'Qf7+,Kh8,Rxh6+,Bxh6,Qh7#', 'https://lichess.org/training/v5den');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v5DGB', 'Rapid', 'vinodkedaram', 1855, 'The_Mind_Sculptor', 1828, 'c4,Nf6,d4,e6,Nc3,Bb4,Bg5,h6,Bh4,g5,Bg3,Ne4,Qc2,Nxg3,hxg3,b6,Nf3,Bb7,Ne5,Nc6,Nxc6,Bxc6,O-O-O,Qf6,f3,O-O-O,e4,Bxc3,Qxc3,d5,cxd5,exd5,e5,Qe6,Rd2,f6,Rc2,Kb7,exf6,Qxf6,Bd3,Rde8,Rf1,Re6,g4,Rhe8,Bf5,Rd6,Kb1,Re7,Rfc1,Be8,Bd3,Bg6,Qa3,Bxd3,Qxd3,Rde6,Qc3,Re3,Qb4,a5,Qa4,Qd6,a3,Re2,Ka2,Rxc2,Qxc2,Rf7,Re1,Rf4,Qd3,Qc6,g3,Rf6,Re5,Qc4+,Qxc4,dxc4,Re3,Kc6,b3,cxb3+,Kxb3,Kd5,Kc3,b5,Re5+,Kc6,Rf5,Re6', 'd5+,Kd6,dxe6', 'https://lichess.org/training/v5DGB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v5eXW', 'Blitz', 'stockvish11', 2063, 'AceeSS', 2034, 'e4,e6,d4,d5,exd5,exd5,Nc3,c6,Nf3,Bd6,Bg5,Ne7,Bd3,O-O,O-O,f6,Bh4,Bf5,Re1,Na6,a3,Nc7,Rxe7,Qxe7,Bxf5,Rae8,Qd2,Qf7,Bg3,Bxg3,hxg3,Ne6,Re1,Re7,Na4,Rfe8,Bxe6,Rxe6,Rxe6,Rxe6,Nc5,Re7,Nd3,Qe8,Nf4,g5,Nd3,h6,Qb4,Kg7,Nc5,b6,Nd3,Re2,Qc3,h5,Nb4,g4,Nh2', 'Re1+,Nf1,Qe2,Qxe1,Qxe1', 'https://lichess.org/training/v5eXW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v5FJm', 'Rapid', 'shamballa', 1667, 'xantain', 1697, 'e4,c5,Nf3,e6,d4,Nc6,d5,exd5,exd5,Nd4,Nxd4,cxd4,Qxd4,Nf6,Bc4,d6,Nc3,Bd7,Bf4,b6,Ne4,Qc7,Nxf6+,gxf6,Bd3,Bg7,O-O,O-O,Rfe1,Rae8,c4', 'f5,Qe3,Rxe3', 'https://lichess.org/training/v5FJm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V5G4C', 'Rapid', 'sabari86', 1910, 'Chunnuji', 1926, 'e4,e5,Bc4,Nf6,d3,Be7,a3,a6,h3,O-O,Ne2,b5,Ba2,Nc6,O-O,Bb7,f4,Bc5+,Kh1,d5,fxe5,Nxe5,exd5,Ba7,d4,Ng6,Bg5,Qd6,Nf4,c6,Nxg6,fxg6,Nc3,Kh8,dxc6,Qxc6,d5,Nxd5,Bxd5,Rxf1+,Qxf1,Qc7,Bxb7,Qxb7,Re1,a5,Nxb5,Bc5,b4,axb4,axb4,Bxb4,Rb1,Bc5,c4,Qe4,Re1,Qc6,Qd3,h6,Bh4,g5,Bg3,Bb4,Rf1,Ra2,Qd8+,Kh7,Qd5,Qe8,Nd4,Rd2,Qf5+,Kh8,Ne6,Re2,Nc7,Qc6,Qc8+,Kh7,Qf5+,Kh8,Be5', 'Qxg2#', 'https://lichess.org/training/V5G4C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v5HFn', 'Rapid', 'FioraOwO', 1961, 'henbra', 1874, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Ng5,Nh6,Nf3,d6,Bxf7+,Nxf7,d3,Bg4,Be3,Nd4,Bxd4,Bxd4,Nbd2,Bxb2,Rb1,Bc3,Rxb7,Bxd2+,Kxd2,O-O,h4,Qf6,Qe2,c5,Qe3,Bxf3,Qxf3,Qxf3,gxf3,Rfb8,Rhb1,Rxb7,Rxb7,a5,a4,g6,Rb6,Ra7,Rb8+,Kg7,Ke3,h6,f4,exf4+,Kxf4,Ne5,Rb6,Rf7+,Kg3,Rf3+,Kg2,Rf6,f4,Ng4,Kf3,h5,Ra6,Ne5+,Kg3,Ng4,Rxa5,Ne3,Ra7+,Rf7', 'Rxf7+,Kxf7,a5', 'https://lichess.org/training/v5HFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V5lOd', 'Blitz', 'VladEnckell', 1766, 'jdsacredheart', 1780, 'e4,c5,Nf3,Nc6,Bb5,e6,O-O,Nge7,c3,a6,Be2,d5,e5,Ng6,d4,Be7,Be3,b6,Nbd2,O-O,Nb3,c4,Nbd2,f6,exf6,Bxf6,b3,b5,bxc4,bxc4,h3,Nce7,Nh2,Nf5,g4,Nxe3,fxe3,h5,gxh5,Nh4,Bg4,Qd6,Ndf3', 'Qg3+,Kh1,Qg2#', 'https://lichess.org/training/V5lOd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v5mCq', 'Rapid', 'mirotnev', 2029, 'Ottogeorg', 2032, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,c5,e3,O-O,Nf3,cxd4,exd4,d5,O-O,dxc4,Na3,Bg4,Nxc4,Nc6,Be3,Rc8,Nce5,Nxe5,dxe5,Nd7,Qb3,Bxf3,Bxf3,Nxe5,Bxb7,Rb8,Bxa7,Qc7,Bxb8,Rxb8,Rfd1,Rxb7,Qa4,h6,Rac1,Qb8,b3,Kh7,Qe4,Rc7,b4,Rxc1,Rxc1,Qa7,Rc2,Qa3,f4,Qd3,Qxd3,Nxd3,a3,e5,fxe5,Nxe5,b5,Nf3+,Kf2,Nd4,Rb2,Ne6,Rd2,Bd4+,Kf3,Bc3,Rd7,Kg7,b6,Be5,b7,Nc5', 'Rd5,Nxb7,Rxe5', 'https://lichess.org/training/v5mCq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V5MR4', 'Rapid', 'Claudio36', 1737, 'bubo15', 1701, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d6,Be2,Bg4,Nbd2,O-O,h3,Bd7,O-O,Nc6,c3,a6,Qc2,b5,Rad1,Qc8,Bd3,e5,dxe5,dxe5,Nxe5,Nh5,Nxd7,Qxd7,Bh2,Ne5,Be4,Rae8,Nb3,Qe6,Nd4,Qxa2,f4,Nc4,Bd5,Nxe3', 'Bxa2,Nxc2,Nxc2', 'https://lichess.org/training/V5MR4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V5P9L', 'Rapid', 'Mehdi666', 2152, 'PurpleInferno', 2207, 'e4,e5,Nc3,Nf6,Nf3,d6,d4,exd4,Nxd4,g6,Bg5,Bg7,Qd2,h6,Bh4,O-O,h3,Re8,Bxf6,Qxf6,O-O-O,Nc6,Nf3,Rxe4,Bd3,Re8,Rde1,Be6,Kb1,Nb4,Re3,Bxa2+,Ka1,Rxe3,Qxe3,Qxc3,bxc3', 'Bxc3#', 'https://lichess.org/training/V5P9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v5qEU', 'Rapid', 'Jangrom', 1657, 'Ben123g', 1663, 'e4,Nc6,Nf3,e5,Bb5,Nge7,Nc3,a6,Ba4,b5,Bb3,f5,exf5,Nxf5,d3,Bb7,Bg5,Be7,Bxe7,Nfxe7,Ng5,d5,Nf7,Kxf7,Qf3+,Ke8,Nxd5,Nd4,Qh5+,g6', 'Nf6+,Kf8,Qh6#', 'https://lichess.org/training/v5qEU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v5Txm', 'Rapid', 'ricky0112', 2015, 'Lupus_Hominarius', 2053, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,g6,Bd3,Bg4,d5,Nd4,Nbd2,Bg7,O-O,Qb6,h3,Nxf3+,Nxf3,Bxf3,Qxf3,Nf6,Rb1,O-O,Be3,Qa5,a3,Nd7,h4,Ne5,Qe2,Rfc8,h5,Qa4,h6,Bf6,f4,Nc4', 'b3,Nxe3,bxa4', 'https://lichess.org/training/v5Txm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V5tZg', 'Rapid', 'chessinprogress1', 1804, 'Malinpolen', 1850, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Bd7,O-O,Rc8,Na3,cxd4,cxd4,Bxa3,bxa3,Nge7,Qb3,Qc7,Bd2,Na5,Bxa5,Qxa5,Qxb7,Qxa3,Rfb1,Bc6,Qa6,Qxa6,Bxa6,Rd8,a4,O-O,Bb5,Rb8,Rb3', 'a6,Rab1,axb5', 'https://lichess.org/training/V5tZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v5U59', 'Blitz', 'ABhi121', 1796, 'GANGSTERLCW', 1901, 'c4,e5,b3,Bb4,Bb2,d6,Nc3,Nf6,e3,Nc6,Nge2,Bf5,g3,O-O,Bg2,Qd7,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,Ne4,Bxe4,Bxe4,O-O,Qh3,f3,Bc6,Qxd6,Rad8,Qf4,Rd2,Rf2,Rfd8,Ne4', 'Rd1+,Rxd1,Rxd1+,Rf1,Rxf1#', 'https://lichess.org/training/v5U59');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V5Z07', 'Blitz', 'FM Kiezking', 2550, 'Sharingan69', 2551, 'e4,e5,Nf3,Nc6,d4,f5,exf5,e4,Ne5,Nf6,Nc3,d5,g4,Bd6,Bf4,O-O,Be2,Qe8,g5,Nxe5,dxe5,Bxe5,Bxe5,Qxe5,gxf6,c6,fxg7,Kxg7,Qd2,d4,Rg1+,Kh8,Nxe4,Qxe4,O-O-O,Bxf5,Bf3,Qxc2+,Qxc2,Bxc2,Kxc2,Rxf3,Rxd4,Rxf2+,Kb1,Raf8,Rd7,R2f7,Rgd1,Kg7,a4,Rxd7,Rxd7+,Rf7,Rd6,Kf8,Ka2,Ke7,Rh6,Kd7,a5,b5,Kb3,c5,a6,Kc7,Kc3,Rf3+,Kc2,c4,h4,b4,h5,Rf2+,Kc1,Rf7,Re6,Rf5,Re7+,Kb6,Rxh7,Kxa6,h6,Rh5,Rc7,Kb5,Rxa7,Rxh6,Rg7,Ka4,Rg3,Rh1+,Kc2,Rh2+,Kc1,b3,Rg8,Rc2+,Kb1,Kb4,Rb8+,Kc5,Rc8+,Kd6,Rd8+,Ke6,Rd4,Ke5,Rd8,Rf2,Kc1,Ke4,Rd7,Ke3,Re7+,Kd3,Rd7+,Ke2', 'Rd2+,Kf3,Rxf2+,Kxf2,Kd2,Kg3,Kc3', 'https://lichess.org/training/V5Z07');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v60NO', 'Rapid', 'M0217', 1625, 'NinjaHattori123', 1642, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,c5,Nxe5,dxe5,Qxg4,Nf6,Qf3,Nc6,d3,Bd6,Bg5,Be7,O-O,O-O,Rfe1,Nd4,Qd1,Rc8,Nd5', 'Nxd5,Bxd5,Bxg5', 'https://lichess.org/training/v60NO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v68YU', 'Rapid', 'davidcheck', 1788, 'anandkaran', 1724, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,cxd5,Nb6,dxe6,Bxe6,e4,Be7,Nf3,h6,Bh4,O-O,Bd3,Ng4,Bxe7,Qxe7,h3,Nf6,Qc2,Nh5,O-O-O,Nf4,g3,Nxd3+,Qxd3,c5,e5,cxd4,Nxd4,Rfd8,Kb1,g6,g4,h5,f3,h4,Qe3,Nc4,Qe2,Qb4,Nxe6,Rxd1+,Rxd1,fxe6,Rd4', 'Na3+,Kc1,Qxd4', 'https://lichess.org/training/v68YU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v699p', 'Rapid', 'koga545hun', 1634, 'Arcaduz', 1644, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,h3,Bh5,g4,Bg6,Ne5,a6,f4,Be4,Rg1,e6,Nc3,Qh4+,Ke2,Nc6,Be3,Nf6,Bf2,Qh6,g5,Qh5+,Ke1,Bf3,Qxf3,Qxf3,Nxf3,Nh5,Be3,Bd6,Ne2,Nb4,Kd2,Rc8,c3,Nc6,Re1,Na5,Ra1,Nc4+,Kd3,Nxb2+,Kc2,Nc4,Bd2,b5,Ng3,Nxd2,Nxd2,Nxf4,h4,Ng6,h5,Nh4,Be2,Bxg3,Rxg3,Nf5,Rf3,Ke7,Raf1,g6,h6,Rc7,Bd3', 'Nxd4+,Kb2,Nxf3', 'https://lichess.org/training/v699p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6a8C', 'Blitz', 'JohnDoor', 1672, 'despr', 1670, 'e4,a6,d4,b5,Nf3,Bb7,d5,c6,c4,b4,a3,e6,Bd2,a5,axb4,axb4,Rxa8,Bxa8,Be2,cxd5,cxd5,exd5,e5,Bc5,Bg5,Ne7,O-O,O-O,Re1,Qb6,Rf1,d4,Bxe7,Bxe7,Nxd4,Qg6,f3,Bc5,Kh1,f6,e6,d6,e7,Re8,Bd3,Qh5,Re1,Bxd4,Bb5,Bc6,Qxd4,Qxb5,Qxd6,Nd7,Qe6+,Kh8,Qf7,Ne5', 'Qf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/v6a8C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6b7b', 'Rapid', 'ALEX_Gontsov', 1812, 'genato', 1892, 'e4,c6,d4,d5,exd5,cxd5,Bd3,e6,Nf3,b6,O-O,Ba6,Bxa6,Nxa6,c3,Bd6', 'Qa4+,Qd7,Qxa6', 'https://lichess.org/training/v6b7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V6Bel', 'Blitz', 'simagin', 1795, 'mike11783', 1820, 'c4,Nf6,Nf3,d5,cxd5,Nxd5,Nc3,e6,e4,Nf6,d4,Be7,Bd3,O-O,e5,Nd5,O-O,h6,Bc2,f5,exf6,Nxf6,Qd3,c5,Ne4,Nbd7,Bb3,Nxe4,Bxe6+,Kh8,Qxe4,Nf6,Qf5,Bxe6,Qxe6,cxd4,Nxd4,Qxd4,Qxe7,Ng4,Be3,Nxe3,Qxe3,Qxb2,Rab1,Qxa2,Rxb7,a5,Qe7,Rg8,g3,a4,Re1,a3,Re6,Qa1+,Kg2,Qc1,f4,Qd2+,Kh3,Kh7,Qf7,Qd5,Qg6+,Kh8', 'Qxh6+,gxh6,Rxh6#', 'https://lichess.org/training/V6Bel');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6dDH', 'Blitz', 'Huljuttelija', 2475, 'IM Mescalero81', 2519, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,Nc6,Nf3,O-O,Bd2,d5,cxd5,exd5,a3,Bd6,Bg5,Be6,e3,h6,Bh4,a6,Bd3,Re8,O-O,Be7,Rac1,Rc8,Na4,Bg4,Ne5,Nxe5,dxe5,Nd7,Bxe7,Qxe7,f4,f6,Nc3,Nb6,Bh7+,Kh8,Bg6,Rf8,Bf5,Bxf5,Qxf5,fxe5,Qxe5,Qxe5,fxe5,Kg8,Ne2,Rfe8,Rf5,Nc4,e6,c6,Nd4,Nxe3,Rf7,Rxe6,Rxg7+,Kxg7,Nxe6+,Kf6,Nc5,Rc7,b4,d4,Kf2,Ke5,Ke2,Nd5,Rf1,Nf4+', 'Rxf4,Kxf4,Ne6+,Ke5,Nxc7', 'https://lichess.org/training/v6dDH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V6DM1', 'Rapid', 'hardyjoker', 1735, 'YaroslavPl', 1736, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Bg5,Nc6,Nc3,Bd7,Nd5', 'Qxe2+,Bxe2,Nxd5', 'https://lichess.org/training/V6DM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6dNg', 'Rapid', 'acoola', 1887, 'RTFManuel', 1873, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,b5,a3,Bb7,f3,Nc6,Be3,g6,Qd2,Bg7,Nxc6,Bxc6,O-O-O,b4,axb4,Rb8,Nd5,Bxd5,exd5,Qc7,Bxa6,O-O,b5,Nd7,Bd4,Bxd4,Qxd4,Rfc8,Rd2,Qa5,c3,Nc5,Bxc8', 'Nb3+,Kc2,Nxd4+', 'https://lichess.org/training/v6dNg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6f9R', 'Blitz', 'DY007', 2266, 'sincerity_rules', 2348, 'Nf3,Nf6,d3,g6,b3,Bg7,Bb2,O-O,Nbd2,d6,g3,c6,Bg2,Nbd7,O-O,e5,d4,Re8,dxe5,Nxe5,Nxe5,dxe5,e3,e4,Nxe4', 'Qxd1,Rfxd1,Nxe4,Bxg7,Kxg7', 'https://lichess.org/training/v6f9R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V6hAh', 'Blitz', 'kek2000', 2078, 'darko-1', 1810, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,Bxc6,O-O,Bc5,f3,Bxd4+,Qxd4,Ng5,f4,Ne6,Qb4,a5,Qe1,O-O,f5,Nd4,Nc3,Nxc2,Qg3,Nxa1,f6,g6,Qg5,Kh8,Qh6,Rg8,Rf3,Qf8', 'Qxh7+,Kxh7,Rh3+,Qh6,Rxh6#', 'https://lichess.org/training/V6hAh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V6hNL', 'Rapid', 'Japollang', 2127, 'Rasool95555', 2128, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,d6,Bd2,Nf6,Nc3,Be6,a3,Be7,O-O-O,a6,h3,b5,f4,Qb8,f5,Bd7,Na2,a5,g4,b4,a4,Ra7,b3,Nd8,g5,Ng8,Bc4,Nb7,h4,Nc5,h5,Bc6,Bd5,Bxa4,bxa4,b3,cxb3,c6,Bxc6+,Kd8,Bb5,Rc7,Bxa5,Nxb3+,Kb2,Nxa5,Ka1,Kc8,Ba6+,Nb7,Qb3,Qa8,Bxb7+,Qxb7,Qxf7', 'Bf6+,gxf6,Rxf7,fxg7,Rxg7', 'https://lichess.org/training/V6hNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6Mqr', 'Blitz', 'BetterplayerthenU', 1982, 'ghost_xx', 1960, 'e4,c5,Nf3,Nc6,Bb5,d6,c3,Nf6,d4,cxd4,cxd4,Nxe4,d5,Qa5+,Nc3,Nxc3,bxc3,Qxb5,dxc6,Qxc6,Bb2,e5,O-O,Be7,Qd2,Bg4,Ne1,O-O,Nd3,Rac8,Nb4,Qc7,Nd5,Qd7,Ne3,Bg5,Qd3,Be6,Rad1,Bxe3,fxe3,Rc6,a4,d5,e4,d4,cxd4,Bc4,Qg3,Bxf1,Rxf1,exd4,Rf4,d3,Rg4,g6,Qh4,d2', 'Qxh7+,Kxh7,Rh4+,Kg8,Rh8#', 'https://lichess.org/training/v6Mqr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6ohM', 'Rapid', 'evlogy', 1878, 'Neverness', 2075, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Nf6,d3,Be7,Bxf4,O-O,O-O,c6,Bb3,a5,a3,b5,c3,Na6,Nbd2,Nc5,Bc2,Nh5,Be3,Be6,d4,Nb7,e5,dxe5,Nxe5,Nf6,Ndf3,Qc7,Bg5,Rad8,Qd3,g6,Bxf6,Bxf6,Qe3,Bg7,Rae1,Nd6,Qf4,Nf5,Ng5,c5,Bxf5,Bxf5,Qh4,h5,Rxf5,cxd4,Nxg6,fxg6,Ne6,Qb6,Nxf8,dxc3+,Qf2', 'Bd4,bxc3,Bxf2+', 'https://lichess.org/training/v6ohM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6QvH', 'Rapid', 'bieps', 1935, 'heisenberg90', 1807, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Bc4,Bg7,c3,Nf6,f3,O-O,O-O,Nc6,Be3,Ne5,Bb3,a6,Qd2,Qc7,Bh6,Nc4,Bxc4,Qxc4,Bxg7,Kxg7,h4,Nh5,g4,Ng3,Rf2,h5,Kg2,Nxe4,fxe4,Bxg4,Na3,Qc8,Kh2,Qc7,Kg1,b5,Nac2,Qb7,Qe3,e5,Nf3,f5,Ng5,f4,Qd3,Qb6,Nb4,Qc5,Nd5,Kh6,Nf3,Rac8,Nh2,Be6,Rd1,Rcd8,Nf3,a5,a3,Rg8,Kf1,Bg4,Nf6,Bh3+,Ke1,Rg7,Qd5', 'Qe3+,Re2,Qxf3', 'https://lichess.org/training/v6QvH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6r2J', 'Rapid', 'Radio64', 2038, 'shahabghsh', 2033, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Nf3,Bd6,Bd3,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Nd7,O-O,Nf6,Bc2,Qc7,Bg5,Ne8,Qd3,f5,Rfe1,h6,Bd2,g5,h4,g4,Ne5,c5,Bxh6,cxd4,Nxg4,fxg4,Bxf8,Kxf8,Qxd4,g3,fxg3', 'Bc5,Qxc5+,Qxc5+', 'https://lichess.org/training/v6r2J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6Ruf', 'Rapid', 'Busyboi', 2002, 'IvkoL', 2034, 'd4,c6,e4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,Bd3,Nf6,Bxg6,hxg6,O-O,Nbd7,Re1,Bd6,b3,Ng4,h3,Nh6,Ne5,Qc7,Bb2,Nf5,Nxf5,gxf5,Qf3,Nf6,Nc4,O-O-O,Nxd6+,Qxd6,a4,g5,d5,g4,Qd3,Qe7,Qc3,Rh6,dxc6,gxh3,gxh3,Ne4,cxb7+,Kb8,Qe5+,Rd6,Ba3,Qg5+,Kf1', 'Nd2+,Ke2,Qh5+,f3,Qxf3#', 'https://lichess.org/training/v6Ruf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V6SUR', 'Rapid', 'rtz678', 1945, 'Omer_B', 1611, 'e4,c5,c4,d6,Ne2,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e5,Qd3,Be6,Nc3,Nf6,f3,Rc8,b3,Be7,Be3,a6,Be2,O-O,O-O,h6,Rfd1,g5,Rac1,Nh5,g3,Ng7,Nd5,Bxd5,Qxd5,Qd7,Bb6,Qc6,Qxc6,Rxc6,Bf2,Rfc8,a4,b5,axb5,axb5,Be3,bxc4,Bxc4,Bd8,Ra1,Ne6,Ra7,Nd4,Bxd4,exd4,Bxf7+,Kf8,Bc4,Rxc4,bxc4,Rxc4,Rb1,d3,Kf1,d2,Ke2', 'Rc1,Kxd2,Rxb1', 'https://lichess.org/training/V6SUR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6sX9', 'Blitz', 'WIM Yani92', 2327, 'goodmove1234', 1811, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Nc6,Bc4,Nf6,O-O,d5,exd5,Nxd5,Nxd5,exd5,Re1+,Be6,Bxd5,Be7,Bxe6,Qxd1,Bxf7+,Kxf7,Rxd1,Rhe8,Bf4,Rad8,h3,Bf6,Rab1,Nb4,a3,Nd3,Bg5,Bxg5,Nxg5+,Kg6,Nf3,Nc5,b4,Ne6,Rxd8,Rxd8,Re1,Kf6,Kf1,g5,g3,Rd3,Re3,Rd1+,Ke2,Ra1,h4,gxh4,Nxh4,Nd4+,Kd3,Nb5,Rf3+,Kg5,Rf4,Rxa3+,Kc4,a6,Rf7', 'Nd6+,Kc5,Nxf7', 'https://lichess.org/training/v6sX9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V6Tsh', 'Classical', 'El_Peon_Ebrio', 1837, 'bigphil', 1808, 'e4,d5,exd5,Nf6,Nf3,Bg4,Be2,Qxd5,Nc3,Qa5,h3,Bh5,d4,Nc6,Bd2,Bxf3,Bxf3,Qb6,d5,Nd4,Na4,Nxf3+,Qxf3,Qd6,c4,e6,Nc3,Qe5+,Be3,O-O-O,Rd1,Bb4,Rd3,exd5,O-O,dxc4,Rxd8+,Rxd8,Bxa7,Rd3,Be3,Bxc3,bxc3,Rxc3,Rb1,Qe4,Qd1,Qd3,Qe1,h6,Rd1,Qc2,Rd2,Qc1', 'Rd8+,Kxd8,Bxc1', 'https://lichess.org/training/V6Tsh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V6w8q', 'Blitz', 'CM BrutneySpears', 2392, 'NM Piotrek79', 2433, 'e4,Nc6,Nc3,Nf6,Nf3,d6,d4,Bg4,Be3,e6,h3,Bh5,Be2,d5,e5,Nd7,Bg5,Be7,Bxe7,Qxe7,Qd2,Bg6,O-O,a6,a4,O-O,Bd3,Nb4,Bxg6,fxg6,Ne2,c5,dxc5,Qxc5,Ned4,Rae8,c3,Nc6,Rae1,h6,Qd3,g5,Qg6,Qe7,Re3,Nd8,Nh2,Nc5,Ng4,Kh8,Rg3,Ne4,Re3,Qf7,Qxf7,Rxf7,f3,Nc5,Kf2,Nxa4,Re2,Nc5,Ke3,Nd7,Rh1,h5,Nf2,Nxe5,b3,Nec6,h4,gxh4,Rxh4,g6,g4,e5,Nxc6,Nxc6,gxh5,g5,Rh1,d4+,cxd4,exd4+,Kd2,Ref8,Ng4,Rxf3,h6,Rxb3,h7,Rb2+,Kd1,Rxe2,Kxe2,Rf7,Rh5,Rxh7,Rxg5,Rg7,Rh5+,Kg8,Nh6+,Kf8,Rf5+,Ke7,Rh5,Kd7,Nf5,Rg2+,Kf3,Rb2,Ke4,a5,Rh7+,Ke6,Rh6+,Kd7,Rh7+,Kd8,Kd5,Rb5+,Kd6,Ke8,Nh6,d3', 'Rh8#', 'https://lichess.org/training/V6w8q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V6Wvx', 'Blitz', 'TheGMslayer', 1782, 'trelos', 1820, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,Bxf7+,Kd8,Qh5,Qxg2,Rf1,Qxe4+,Qe2,Qxc2', 'Nc6+,Qxc6,Qe8#', 'https://lichess.org/training/V6Wvx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V6x6v', 'Rapid', 'rustemnet', 1900, 'Kamat', 1812, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,d4,b5,Bb3,Nxd4,Nxd4,exd4,Qxd4,c5,Qd5,Be6,Qc6+,Bd7,Qd5,c4,Bf4,Nf6,Qd4,cxb3,axb3,Bc6,Nc3,Be7,O-O,O-O,Nd5,Nxd5,exd5,Bf6,Qd3,Bd7,Bxd6,Bxb2,Ra2,Qf6,Bxf8,Kxf8,c4,Bf5,Qe2,Re8', 'Qxb2,Qxb2,Rxb2', 'https://lichess.org/training/V6x6v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V6xxY', 'Rapid', 'sp1987', 1840, 'hatemhatem0064', 1861, 'e4,e6,Nc3,d5,e5,d4,Nce2,c5,d3,Ne7,Bf4,Ng6,Bg3,Nc6,f4,Be7,Nf3,O-O,h4,f5,h5,Nh8,Qd2,a5,Bh4,b5,Bxe7,Qxe7,g3,h6,Bg2,Bb7,Neg1,Nf7,c3,b4,cxb4,axb4,b3,Qd7,Ne2,Ne7,O-O,Nd5,Rac1,Rac8,Nfxd4,cxd4,Nxd4,Nc3,Nxe6,Bxg2,Nxf8,Qa7+,Rf2,Rxf8,Kxg2,Qb7+,Kh2,Rd8,Re1,Ne4,Rxe4,fxe4,d4,Rc8,d5,Qb6,Re2,g6,Rxe4,gxh5,Rxb4,Qc5,d6,h4,Rc4,hxg3+,Kxg3,Qg1+,Qg2,Qxg2+,Kxg2,Ra8,d7,Rd8,e6,Nd6,Rd4,Nf5,Rc4,Ne7,b4,Kg7,f5,Kf6,Rc8', 'Nxc8,dxc8=Q,Rxc8', 'https://lichess.org/training/V6xxY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6xyz', 'Rapid', 'yeg118', 1752, 'leskano182', 1872, 'e4,Nf6,Nc3,d5,e5,d4,exf6,dxc3,bxc3,exf6,Bb2,g6,c4,Bg7,Nf3,Be6,d3,Nc6,Be2,O-O,O-O,a6,Re1,Re8,Rb1,Rb8,Qd2,Bg4,Qc3,b5,c5,b4,Qd2,Bxf3,Bxf3,Nd4', 'Rxe8+,Qxe8,Bxd4', 'https://lichess.org/training/v6xyz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V6ZIp', 'Rapid', 'IgorCru4inin', 1940, 'Jupiii', 1997, 'e4,e6,Nf3,d6,d4,Be7,c3,Nf6,Bd3,Nc6,O-O,O-O,Nbd2,e5,dxe5,Nxe5,Be2,Bg4,h3,Bh5,Nh2,Bxe2,Qxe2,Re8,f4,Nc6,Ng4,Qd7,Nxf6+,Bxf6,Qf3,Rad8,Nc4,b5,Ne3,Qe6,Nd5,g6,Nxc7,Qc4,Nxe8,Rxe8,Re1,b4,Bd2,a5,b3,Qb5,c4,Qb6+,Be3,Nd4,Qf2,Rxe4,Bxd4', 'Bxd4,Kh2,Bxf2', 'https://lichess.org/training/V6ZIp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v6ZXo', 'Rapid', 'moeinibrahimmubarak7', 1980, 'diinekisGR', 2011, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,O-O,Nbd7,Re1,Qc7,Bb3,Nc5,Nf3,Be7,e5,dxe5,Nxe5,Nxb3,axb3,O-O,Bg5,b5,Ng4,Nxg4,Bxe7,Qxe7,Qxg4,Bb7,Re3,Rac8,Rg3,g6,h4,b4,Ne2,Rxc2,h5,Rxb2,h6,Qf6,Rf3,Qe7', 'Qd4,e5,Qxb2,Bxf3,gxf3', 'https://lichess.org/training/v6ZXo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v71Bf', 'Blitz', 'Apoewz', 1573, 'Basilozdgreat', 1655, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Bg5,Bg4,Bxf6,Qxe2+,Bxe2,gxf6,Nc3,Nc6,O-O-O,O-O-O,Nd5,Bg7,h3,Bxf3,Bxf3,Rhe8,g4,Nd4,Be4,c6,Nc3,d5,Bxh7,Rh8,Bf5+,Kb8,Rde1,Nf3,Re7,Rhf8,Na4,b6,h4,d4,b3,Rd5,Be4,Bh6+,Kb2,Nd2,Bxd5,cxd5,Rd7,b5,Nc5,Rc8,b4,Nf3,Rxf7,a5,a3,Bd2,Na6+,Ka8,bxa5,Bc3+,Kb1,Nd2+,Ka2,Bxa5,Rxf6', 'Rxc2+,Ka1,Bc3#', 'https://lichess.org/training/v71Bf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v78Lc', 'Rapid', 'MuhammetEmre', 1793, 'CastleOrRiot', 1763, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bd7,O-O,Nf6,Bg5,Ne4,Be3,e6,Ne5', 'Nxe5,Bxd7+,Nxd7', 'https://lichess.org/training/v78Lc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v78YC', 'Rapid', 'Brigthen', 1798, 'FAJARDHINO', 1829, 'd4,Nf6,c4,d5,Nc3,Bf5,Nf3,Nc6,e3,e6,Be2,Bb4,O-O,Bxc3,bxc3,h6,Ba3,Ne7,Ne5,O-O,cxd5,Qxd5,Bf3,Qd8,Bxb7,Rb8,Bxe7,Qxe7,Nc6,Qd6,Nxb8,Rxb8,Bf3,Be4,Bxe4,Nxe4,Qd3,Ng5,Rab1,Rd8,Rb7,Qd5,Rxa7,c5,a4,Ne4,f3,Nf6,e4,Qg5,Rb1,Nh5,Rbb7,Nf4,Qf1,cxd4,cxd4,Rxd4,Rxf7,Rd2,Rxg7+,Qxg7,Rxg7+,Kxg7,Qa1+,Kg6,a5,Rxg2+,Kf1,Rxh2,Qe5', 'Rh1+,Kf2,Nd3+,Kg2,Nxe5', 'https://lichess.org/training/v78YC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v7AvV', 'Rapid', 'trytoplaywell', 1995, 'Jazzit', 2017, 'd4,Nf6,Nf3,g6,e3,Bg7,Bd3,O-O,O-O,d6,Nbd2,Re8,e4,e5,d5,c6,c4,cxd5,cxd5,Bg4,h3,Bd7,b3,Na6,Ba3,Nc5,Bxc5,dxc5,Re1,Nh5,Nc4,Nf4,Nd6,Re7,Rc1,Bxh3,Nxb7,Rxb7,g3,Nh5,Qd2,Qf6,Ng5,Bh6,f4,Nxg3,Nxh3,Qh4,Qg2,exf4,Kh2,g5,Kg1,g4,Nf2,f3,Qh2,Qxh2+,Kxh2,Bxc1,Kxg3,Bd2,Rd1,Bc3,Nxg4,h5,Nh6+,Kh7,Nf5,Rg8+,Kxf3,Be5,Rh1,Rg5,Bc4,f6,d6,Kg6,Rd1,Bd4,Be6,Rb8,d7,Rd8,Nxd4,cxd4,Rxd4,Re5,Bf5+,Kg5,Rd1,h4,Rg1+,Kh5,Rg7,Rc5,Kf4,Rc1', 'Rh7#', 'https://lichess.org/training/v7AvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V7BpN', 'Blitz', 'mbojan23', 2567, 'TNT_chess', 2709, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nde2,h5,Bg5,Be6,Bxf6,Qxf6,Nd5,Qd8,Qd3,Nd7,O-O-O,b5,Qa3,g6,Nec3,Qc8,h4,Rb8,g3,Nb6,Nf6+,Ke7,Ncd5+,Nxd5,Nxd5+,Bxd5,Rxd5,Kf6,Bh3,Qc6,Rhd1,Kg7,Kb1,Be7,f4,Rb7,f5,Rd8,Qf3,Rc7,Rc1,b4,g4,Bxh4,gxh5,Bg5,f6+,Kf8,Qd1,Bxf6,hxg6,fxg6,Qg4,Kg7,Qg2,Rh8,Rg1,Rh6,Bf5,Qe8,Rxd6,a5,Re6,Qf7,Ra6,Rc5,b3,Kh7,Rd6,gxf5,exf5,Rc7,Qe4,Re7,Ra6,Rh4,Qe1,e4,Rg6,Rh5,Raxf6,Qd5,Qg1,e3,Rh6+,Rxh6', 'Rxh6+,Kxh6,Qg6#', 'https://lichess.org/training/V7BpN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v7GiM', 'Rapid', 'Yousef_ayman', 1721, 'omarhakim12', 2133, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d3,Bc5,a3,O-O,O-O,d5,exd5,Nxd5,Ba2,Bg4,Nbd2,Nf4,Ne4,Nd4,Nxc5,Bxf3,gxf3', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/v7GiM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V7GxZ', 'Rapid', 'Duksi', 1754, 'dobbymagic', 1968, 'e4,e5,Nf3,Nf6,d3,Nc6,Bg5,h6,Bh4,Be7,Nc3,O-O,Nd5,Nxd5,exd5,Bxh4,dxc6,dxc6,Qe2,Re8,O-O-O,Qe7,Re1,Bg4,h3,Bxf3,Qxf3,Rad8,g3,Bf6,Kb1,Rd5,Bg2,Qb4,Re4,Rd4', 'c3,Rxe4,cxb4', 'https://lichess.org/training/V7GxZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v7HHo', 'Blitz', 'Ayushshmishra002', 1697, 'xxxPsychoxxx', 1672, 'e4,e5,Nc3,Nc6,b3,d6,Bb2,f5,exf5,Bxf5,Nh3,h6,Qh5+,g6,Qf3,Nd4,O-O-O,Bxc2,Qxb7,Nf6,f4,Be7,fxe5,dxe5,Nb5,Be4,Nxd4,Bxb7,Bb5+,c6,Nxc6,Bxc6,Bxc6+,Kf7,Bxe5,Rc8,Bxf6,Bxf6,Kb1,Rxc6,d4,Bxd4,Rhf1+,Kg7,Nf4,Rd6,Rxd4,Rxd4,Ne6+,Kh7', 'Rf7+,Kg8,Rg7#', 'https://lichess.org/training/v7HHo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v7Ir0', 'Blitz', 'Garnik95', 2384, 'GM Crest64', 2644, 'e4,e6,d4,d5,Nd2,Be7,Bd3,c5,exd5,exd5,Bb5+,Bd7,Qe2,cxd4,Ngf3,Nf6,Ne5,O-O,Nxd7,Nbxd7,O-O,Rc8,Nb3,a6,Bd3,Re8,Bf4,Qb6,Qf3,Nc5,Nxc5,Bxc5,b3,Ne4,Rfe1,f5,Qh3,g6,f3,Nf6,Kh1,Bb4,Rxe8+,Rxe8,Qh4,Qe6,h3,Be7,Bg5,Ne4,fxe4,fxe4,Bxe7,Rxe7,Be2,Kg7,Rf1,Rc7,Qf4,Qe7,Qf2,e3,Qf4,Rxc2,Qxd4+,Kh6,Qd3', 'Rd2,Qxd2,exd2', 'https://lichess.org/training/v7Ir0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V7jNP', 'Rapid', 'Regniery', 1810, 'aRocco', 1804, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,Bb4,Bc4,Bxc3+,bxc3,h6,O-O,Nf6,Ba3,Nc6,Re1,Nd5,Bb3,Nce7,c4,Nf4,Qd2,Nfg6,d5,O-O,Rad1,exd5,Bxe7,Nxe7,cxd5,Bg4,d6,cxd6,Qxd6,Qxd6,Rxd6,Bxf3,Rxe7,Bc6,f4,Rae8,Rxe8,Rxe8,Kf2,Kf8,Rd4,f6,c4,a6,Bc2,Ke7,Bg6,Rd8,Rxd8,Kxd8,g3,Ke7,Ke3,Ke6,Kd4,b5,Kc5,Bd7,Kb6,bxc4,Kxa6,Bc6,Kb6,Bd5,Kc5,c3,a4,f5,g4,c2', 'Bxf5+,Ke7,Bxc2', 'https://lichess.org/training/V7jNP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V7Juw', 'Classical', 'Genazavr', 1644, 'lucaschaakt', 1642, 'd4,Nf6,e3,e6,c4,c5,d5,exd5,cxd5,d6,Bc4,Be7,Nc3,O-O,Nf3,Bg4,O-O,a6,h3,Bxf3,Qxf3,b5,Be2,Nbd7,b3,Ne5,Qf5,Qd7,Qc2,b4,Ne4,Nxd5,f4,Nxe3,Bxe3,Nc6,Bd3,Rfe8,Bd2,Nd4,Qb2,f5,Ng3,Bf6,Qb1,g6,Qd1,a5,Bc4+,d5,Bd3,Re7,Rf2,Bh4,Rf1,Bxg3,Be1,Bxe1,Rxe1,Rxe1+,Qxe1,Re8,Qf1,Qe6,Rc1,Qe3+,Kh1,Ne6,Re1,Qxf4', 'Qxf4,Nxf4,Rxe8+', 'https://lichess.org/training/V7Juw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v7kSu', 'Rapid', 'Taxxxx', 1834, 'stefen23', 1846, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qd1,Nf6,Nc3,O-O,Bc4,b5,Bb3,Nd4,Bd5,Nxd5,Nxd5,Qc5,c3,Ne6,Be3,Qd6,O-O,Bb7', 'Nf6+,gxf6,Qxd6', 'https://lichess.org/training/v7kSu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v7NqK', 'Blitz', 'Arxchivolkov', 1730, 'lacichess', 1756, 'e4,e5,Nf3,Bc5,Bc4,d6,d3,Nf6,Nc3,O-O,Be3,c6,Bxc5,dxc5,Qd2,Qc7,a4,b6,O-O-O,Bb7,Ng5,a5,h4,h6,h5,hxg5,Qxg5,Nh7,Qf5,Qe7,h6,g6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/v7NqK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V7o6Y', 'Rapid', 'annu4u2020', 1646, 'happy_suicide', 1678, 'e4,e6,Nf3,d5,e5,c5,c3,Ne7,d4,Nf5,Bd3,Qb6,Bxf5,exf5,O-O,Nc6,Be3,Qxb2,Qd2,Qxd2,Bxd2,cxd4,cxd4,Be6,Be3,Bb4,Nbd2,O-O,Nb3,b6,Rac1,Rfc8,Rc2,Rc7,h3,Rac8,Rfc1,Kf8,Bd2,Ba3,Re1,Ne7,Rxc7,Rxc7,Bg5,h6,Be3,g5,Re2,f4,Bd2,Rc2,g3,fxg3,fxg3,Bxh3,Rh2,g4,Ne1,Rxa2', 'Bxh6+,Ke8,Rxa2', 'https://lichess.org/training/V7o6Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V7PPZ', 'Rapid', 'Britvich', 1766, 'grandisaster', 1710, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,c6,Nf3,d5,cxd5,Nxd5,O-O,O-O,Rb1,Nd7,a3,N7f6,b4,Bg4,Bb2,Qd6,Re1,e5,h3,Nxc3,Bxc3,Bxf3,Bxf3,Nd5,Bb2,Rad8,e4,Ne7,Bc3,f5,Rb2,f4,g4,g5,Qb3+,Kh8,Rd1,Qh6,Kg2,Rd3,Rh1,Rfd8,a4,Ng6,Be2,Nh4+,Kf1,R3d7,f3,Qf6,Rc2,Qe7,Qb2,Qf7,Bxe5,Ng6,Bc4,Bxe5,Bxf7,Bxb2,Bxg6,Rxd2,Rxd2,Rxd2,Bf5,Bc3,b5,Bd4,bxc6,bxc6,h4,Rf2+,Ke1,gxh4,Rxh4,Rxf3,Rxh7+,Kg8,Rc7,Ra3,Rxc6,Rxa4,Bd7,Kf8', 'Rc8+,Ke7,Bxa4', 'https://lichess.org/training/V7PPZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v7QPm', 'Classical', 'Eulersanta', 1761, 'alexchesscba', 1646, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,h3,O-O,Ng5,h6,Nxf7,Rxf7,Bxh6,gxh6,Qf3,d5,exd5,Nxd5,Bxd5,Qf8,Nd2,Ne7,Qg3+,Kh7,Be4+,Nf5,Qxe5,Kg8,Bd5,c6,Bxf7+,Kxf7,Ne4,Be7,g4,Ng7,Qf4+,Kg8,Qxh6,Qf3,Rg1,Bd7,Rg3', 'Qh1+,Kd2,Qxa1', 'https://lichess.org/training/v7QPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V7RAR', 'Rapid', 'ManuelMay', 1982, 'Artem-202', 1924, 'd4,c5,d5,g6,Nc3,Bg7,e4,d6,Nf3,Nd7,Bb5,a6,Be2,Qa5,Bd2,b5,Nxb5,Qb6,Nc3,Qxb2,Rb1,Qa3,Rb3,Qa5,O-O,Ngf6,Qb1,Qc7,Bf4,O-O,Re1,Ng4,h3,Nge5,Nxe5,Nxe5,Bg3,Re8,f4,Nd7,Na4,c4,Rb4,Rb8,Rxb8,Nxb8,Qb4,a5,Qxc4,Qa7+,Bf2,Qd7,Nb6,Qd8,Qa4,Nd7,Qxa5,Nc5,Bxc5,dxc5,Nc4,Qxa5,Nxa5,Bd4+,Kh1', 'Bc3,Rb1,Bxa5', 'https://lichess.org/training/V7RAR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V7rRC', 'Rapid', 'jingoringo', 2041, 'siki52', 2038, 'e4,e6,d4,d5,Nc3,c6,Nf3,f5,exf5,exf5,Qe2+,Qe7,Bg5,Nf6,Bxf6,Qxe2+,Bxe2,gxf6,O-O-O,Be6,Rhe1,Kf7,Bd3,Nd7,Nh4,f4,g3,Bh6,Kb1,Bg5,Nf5,Nf8,Nd6+,Ke7,Nxb7,Kd7,Nc5+,Kd6,Ne2,Bg4,Rf1,Ng6,f3,Bh3,Rfe1,Rhe8,Ng1,Bd7,h4,Bh6,g4,Nxh4,Bxh7,Ng2,Rxe8,Rxe8,Nxd7,Kxd7,Bf5+,Kd6,c3,Ne3,Rd2', 'Nxf5,gxf5,Re1+,Kc2,Rxg1', 'https://lichess.org/training/V7rRC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v7rT8', 'Rapid', 'KrLuch', 2024, 'KVladGl', 2025, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bg4,Be2,Nd7,h3,Bh5,Ng3,Bg6,Nh4,e6,Nxg6,hxg6,d4,Ngf6,O-O,Bd6,Bg5,Qc7,Qd3,O-O-O,c3,Rde8,b4,e5,b5,e4,Qe3,Nd5,Qd2,f6,c4,e3,fxe3,Bxg3,cxd5,fxg5,dxc6,bxc6,Rac1,Kb8,Rxc6,Qd8,b6,Nxb6,Rb1,Bc7,a4,Qe7,a5,Qxe3+,Qxe3,Rxe3,Bf3,g4,Bxg4,Rhe8,axb6,Bxb6,Rxg6,Re1+,Rxe1,Rxe1+,Kh2,Bxd4,Rd6', 'Be5+,g3,Bxd6', 'https://lichess.org/training/v7rT8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v7uri', 'Rapid', 'Daod1122', 1920, 'chessforarabs', 1976, 'e4,d5,exd5,Qxd5,d4,Nf6,Be3,Bf5,Nf3,e6,a3,c6,c4,Qa5+,Nc3,Nbd7,c5,Nd5,Rc1,Nxe3,fxe3,Nf6,Be2,Be7,O-O,Rd8,h3,Qc7,Nh4,Bg6,Nxg6,hxg6,Bf3,Qg3,Ne4,Nxe4,Bxe4,Qxe3+,Kh1,Qxe4,Qb3,Rxd4,Rce1,Qd5,Qxb7,Rxh3+,Kg1,Rh1+,Kxh1,Rh4+,Kg1,Bxc5+,Rf2,Bxf2+,Kxf2,Qd4+,Re3,Qd2+,Re2,Qf4+,Kg1,Qh2+,Kf2,Rf4+,Ke1,Qg1+,Kd2,Qd4+,Ke1,Qd7', 'Qb8+,Qd8,Qxf4', 'https://lichess.org/training/v7uri');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V7WsM', 'Blitz', 'DontCareAboutRatings', 1760, 'Luis1111', 1714, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bg4,c4,Nf6,Nc3,e6,Bg5,Nbd7,Be2,h6,Bh4,Bb4,O-O,Bxc3,bxc3,O-O,d5,Qc8,Qd3,Nc5,Qd4,Bxf3,Bxf6,Bxe2,Bxg7,Bxf1,Bh8,f6,Bxf6,Bd3', 'Qg4+,Kf7,Qg7+,Ke8,Qe7#', 'https://lichess.org/training/V7WsM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v7xCV', 'Rapid', 'azaiza', 1940, 'kaput', 1885, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,Bxg3,hxg3,Qe7,Nf3,Nc6,c4,dxc4,Bxc4,Bd7,Nc3,Nf6,Rb1,a6,Qb3', 'Na5,Qc2,Nxc4', 'https://lichess.org/training/v7xCV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V7yC6', 'Classical', 'khamza86', 1888, 'selassie88', 1946, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,Bg4,Be2,Nbd7,h3,Bxf3,Bxf3,c6,g4,Qc7,g5,Ne8,Be3,a5,a4,e5,h4,exd4,Bxd4,d5,Bxg7,Nxg7,cxd5,Qxf4,Kf2,Ne5,Rh3,Nh5,Ne2,Ng4+,Ke1,Qe3,Bxg4,Qxe4,Bxh5,gxh5,Qd3,Qe5,Qd4,Qf5,Re3,Rfe8,Rxe8+,Rxe8,Kd2,Rd8,Nc3,b5,axb5,cxb5,Rxa5,b4,Ne2,b3,Qd3,Qf2,Qg3,Qb6,Qc3,Qf2,Qd4,Qf5,Rc5,Qb1,Qf6,Re8,Rc7,Rf8,d6,Qe4,d7,Qd5+,Qd4,Qa5+,Rc3,Rd8,Qe4,Rxd7+,Nd4,Qd8,Rd3,Re7,Qc6,Qa5+,Qc3,Qe5,Re3,Qh2+,Re2,Qf4+,Kd3,Qg3+,Kd2,Rxe2+,Kxe2', 'Qxc3,bxc3,b2', 'https://lichess.org/training/V7yC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v7zbE', 'Bullet', 'Bijoybarua490', 1588, 'pereyrafg', 1599, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,O-O,Bg5,d6,Nc3,h6,Bh4,Na5,Nd5,Nxc4,dxc4,g5,Bg3,Nxe4,Qd3,Nxg3,hxg3,c6,Ne3,Qe7,Nf5,Bxf5,Qxf5,Rae8,Kh2,Qe6,Qd3,e4,Nxg5,hxg5,Qc3,Qh6+,Kg1,Qg7,Qb3,Bb6,Rae1,Kh7,Re2,Rh8,Rfe1,Kg8,Rxe4,Rxe4,Rxe4,Qh7', 'Re8+,Kg7,Qc3+,f6,Re7+', 'https://lichess.org/training/v7zbE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V86pt', 'Blitz', 'wildleax', 1731, 'ChmisouN1', 1687, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Nxd4,Nf6,Nc3,Nxd4,Qxd4,c5,Qd3,a6,a3,b5,Bd5,Nxd5,Nxd5,Bb7,O-O,Be7,Bf4,Bxd5,Qxd5,O-O,Rad1,a5,Bxd6,b4,Bxe7,Qxe7,a4,Rad8,Qc4,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,Qe2,Qd4,b3,h6,g3,g6,Kg2,Kg7,f4,h5,h3,f6,Qd3,g5,Qxd4,cxd4,f5,Kf7,Kf2,Ke7,Ke2,Kd6,Kd3,Ke5,h4,g4,Kc4,Kxe4,Kb5,Kf3,Kxa5,Kxg3,Kb5,Kf3,a5,g3,a6,g2,a7,g1=Q,a8=Q+,Ke3,Qe8+,Kd2,Qxh5,Kxc2,Qe2+,Kxb3,Qc4+,Kb2,Qxb4+,Kc2,Qa4+,Kd3,Qa3+,Ke4,Qe7+,Kxf5,Qd7+,Kg6,Qe8+,Kh6', 'Qh8+,Kg6,Qg8+,Kf5,Qxg1', 'https://lichess.org/training/V86pt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V89L6', 'Rapid', 'ampsicora', 1763, 'tiogustavo', 2293, 'd4,Nf6,c4,c5,d5,b5,Nc3,b4,Na4,d6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,Bd7,Bg5,Qe8,b3,Bxa4,bxa4,Ne4,Rc1,Nc3,Qc2,Nxa4,e4,Nb6,Bf4,N8d7,Rfe1,a5,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Rxe5,Rd8,Rce1,Nc8,Bh3,f5,f4,Qd7,Qe2,Rde8,Re6,Nd6,Bg2,a4,Qc2,Rf7,h3,Rb8,R1e3,Qb7,Qe2,Kf8,Kh2,b3,axb3,axb3,Qb2,Nxc4', 'Qh8#', 'https://lichess.org/training/V89L6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v89Wc', 'Blitz', 'Clubolim', 2343, 'FM ABIMBOLA-OSUNFUYI', 2491, 'c4,Nf6,Nc3,c6,e4,e5,Nf3,Qc7,d4,exd4,Nxd4,Bb4,Bd3,O-O,O-O,Re8,Qc2,d6,Bd2,a5,a3,Bc5,Nb3,Ba7,Bf4,Nbd7,Na4,Ne5,Bxe5,Rxe5,Rae1,Bd7,Kh1,Rh5,f4,Ng4,h3,Rh6,c5,Rd8,cxd6,Qxd6,e5,Qd5,Be4,Bf5,Bxf5', 'Rxh3#', 'https://lichess.org/training/v89Wc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8aGX', 'Blitz', 'AdrianMontoya', 1810, 'Dooby1', 1881, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,Nc3,dxe5,dxe5,Qxd1+,Nxd1,Nc6,Nf3,Bg4,Bf4,e6,Ne3,Bb4+,Nd2,h6,a3,Ba5,Nxg4,O-O-O,O-O-O,Na4,b4,Rd4,g3,g5,bxa5,gxf4,Nf6,Nxa5,gxf4,Rxf4,Nh5,Rxf2,Ne4', 'Nb3+,Kb1,Rb2#', 'https://lichess.org/training/v8aGX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V8cRy', 'Blitz', 'DavyCroq', 1526, 'courlande', 1544, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Be7,Qd5,Nh6,Bxh6,Rf8,Bxg7,c6,Qh5,d5,Bxf8,dxc4,Bxe7,Qxe7,Nxc3,Be6,Qxh7,Nd7,Qh8+,Nf8,Nf3,O-O-O,O-O,Ng6,Qh5,Nf4,Qa5,Kb8,Rad1,Rg8,g3,Nh3+,Kh1,Ng5,Ne5,Bh3,Rfe1,Qf6,Nd7+,Bxd7,Rxd7', 'Qf3+,Kg1,Nh3+,Kf1,Qxf2#', 'https://lichess.org/training/V8cRy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8fTb', 'Rapid', 'kgaurav23', 1861, 'chobalt', 1843, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qc3,e6,a3,Nf6,Bg5,Be7,Bxf6,Bxf6,Qb3,a6,Nc3,Nd4,Qa4,b5,Nxb5,axb5,Qxa8,Nxc2+,Kd1,Nxa1,Bxb5,O-O,b4,Qb6,Qa4,Qxf2,Ne2,Qxg2,Ng3,Qf3+,Be2,Qb3+,Qxb3,Nxb3,Bc4,Nd4,b5,Bb7,a4,Rc8,Be2,Be5,a5,Bxg3,hxg3,Nxe2,Kxe2,Bxe4,Ra1,Ra8,b6,Bb7,Kd3,d5,Kd4,f6,Kc5,e5,Kb5,d4,a6,Bxa6+,Rxa6,Rb8,Kc6,d3,b7,Kf7,Ra8,Rxb7,Kxb7,e4,Rd8,f5,Kc6,Ke7,Rd4,Ke6,Kc5,Ke5,Kc4,g5,Rd5+,Ke6,Kd4', 'd2,Kc5,e3', 'https://lichess.org/training/v8fTb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8G9H', 'Rapid', 'ion3', 1861, 'gramps', 1916, 'Nf3,g6,g3,Bg7,Bg2,Nf6,O-O,d5,c4,c6,cxd5,cxd5,d4,O-O,Nc3,Nc6,a3,Bg4,e3,e5,Qd2,e4,Ne5,Nxe5,dxe5,Nh5,Nxd5,Bf3,Nf4,Bxe5,Bxf3,exf3,Nxh5,gxh5,Rb1,Qg5,e4,Qg6,Qg5,Rfe8,Re1,Rac8,b3,Rc2,Qxg6+,hxg6,Bf4,Bxf4,gxf4,Re2,Rxe2,fxe2,f3,Rd8,Kf2', 'Rd1,Kxe2,Rxb1', 'https://lichess.org/training/v8G9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8gNQ', 'Blitz', 'sjdhdhskjdhs', 2184, 'FM jposthuma', 2306, 'Nf3,Nf6,Rg1,d5,d4,c5,c3,Nc6,Ne5,Nxe5,dxe5,Qc7,exf6,Qxh2,Qxd5,Qxg1,Na3,e6,fxg7,Bxg7,Qd6,Bd7,Bf4,Bf8,Qe5,Rg8,Bh2,Qh1,O-O-O,Rd8,e3,Bc6,Re1,Bxg2', 'Bb5+,Bc6,Rxh1', 'https://lichess.org/training/v8gNQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8HI5', 'Rapid', 'Dd0mino2', 1895, 'doomers', 1968, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,a3,Qb6,Nf3,Nge7,b4,Nf5,Be3,Nxe3,fxe3,Be7,Bd3,O-O,h4,f6,exf6,Bxf6,Bxh7+,Kxh7,Ng5+,Kg8', 'Qh5,Bxg5,hxg5', 'https://lichess.org/training/v8HI5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8hyJ', 'Rapid', 'aravane', 1948, 'MihoSevastopol', 1807, 'e4,e5,Bc4,Nf6,Qf3,Nc6,c3,a6,Ne2,b5,Bb3,Na5,Bc2,Bb7,O-O,Bd6,d4,O-O,Bg5,h6,Bxf6,Qxf6,Qxf6,gxf6,d5,c6,dxc6,Bxc6,Rd1,Bc7,Ng3,Nc4,Nf5,Kh7,b3,Nb6,Ne7,Bb7,a4,Rae8,Nd5,Nxd5,exd5+,Kh8,axb5,axb5,Ra7,Rb8,Be4,Bb6,Ra2,d6,Rd3,Ra8,Rb2,Ra1,Rh3,Kg7,c4,Bd4,Rd2,bxc4,bxc4,Rh8,g3,Kf8,Kg2,Bc8,Rh4,f5,Bc2,e4,Rxd4,Kg7,Nc3,Rc1,Rd2,Ba6,Nb5,Bxb5,cxb5,Rc8,Bd1,R8c5,Be2,R1c2,Rxc2,Rxc2,Rf4,Rxe2,Rxf5,Rb2,Rf4,e3,Kf1,exf2,Rxf2,Rxb5,Rd2,f5,Ke2,Rb3,Rd3,Rb2+,Rd2', 'Rxd2+,Kxd2,Kf6,Kd3,Ke5', 'https://lichess.org/training/v8hyJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V8iRw', 'Classical', 'arupdvc', 1653, 'felix_schach', 1618, 'e4,e5,Nf3,Nc6,Bc4,Nf6,c3,d5,exd5,Nxd5,Qb3,Be6,Qxb7,Na5,Qb5+,c6,Qa4,Nb6,Qxa5,Nxc4,Qxd8+,Rxd8,b3,e4,Nd4,Ne5,O-O,c5,Nb5,Nd3,Nc7+,Kd7,Nb5,a6,N5a3,Kc6,f3,c4,fxe4,cxb3,c4,Bc5+,Kh1,Bd4,axb3,Bxa1,h3,Nxc1,Rxc1,Bb2,Rc2,Bxa3,Nxa3,f5,d4,fxe4,d5+,Bxd5,cxd5+,Kxd5,Nc4,Ke6,Re2,Rd1+,Kh2,Kf5', 'Ne3+,Ke5,Nxd1', 'https://lichess.org/training/V8iRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8izL', 'Rapid', 'mikelitoris1', 1937, 'bobbyald', 1873, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,d4,exd4,cxd4,f5,exf5,Bxf5,O-O,Nf6,Nc3,Be7,Nh4,Bg6,f4,Qd7,d5,Nxd5,Nxd5,Bxh4,Qe2+,Kd8,Be3,Re8,Qc4,a6,Bxc6,Qxc6,Qd4,Rxe3,Nxe3,Bf6,Qd2,Qc5,Rac1,Qb6,Kh1,Kd7,f5,Bf7,b3,Re8,Nc4,Bxc4,Rxc4,h6,Re1,Rxe1+,Qxe1,d5,Rc2,c5,Re2,Kc7,Re6,Qb5,h3,Kb8,Qg3+,Ka7,Qd6,d4,Qc7,d3,a4,Qxb3,Re8,Qxa4', 'Qxc5+,b6,Qc7#', 'https://lichess.org/training/v8izL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V8kjD', 'Rapid', 'SharkanovA', 1845, 'kylefantastic', 1918, 'e4,e5,d4,exd4,c3,dxc3,Bc4,g6,Qb3,Qe7,Nxc3,Nc6,Nd5,Qxe4+,Ne2,Na5,Qb5,Qxc4,Qxa5,b6,Qd2,Ba6,b3,Qxe2+,Qxe2+,Bxe2,Nxc7+,Kd8,Nxa8,Bg7,Kxe2,Bxa1,Bg5+,Bf6,Bf4,Ne7,Nc7,Nc6,Nd5,Nd4+,Kd3,Bg7,Bg5+,Kc8,Rc1+,Kb8,Bf4+,Ka8,Rc7,Ne6,Rxd7', 'Nc5+,Ke2,Nxd7', 'https://lichess.org/training/V8kjD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8KYF', 'Rapid', 'anandgary', 2127, 'childishgambit', 2150, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,exd6,Nc3,Nc6,Nf3,Bg4,Be2,Be7,O-O,O-O,b3,Bf6,Be3,d5,c5,Nc8,Re1,a5,h3,Bh5,Qd2,b6,Na4,bxc5,Nxc5,Nd6,Rac1,Ne4,Qc2,Nb4,Qb2,Nxc5,Rxc5,Bxf3,Bxf3,Nd3,Qc3,Nxc5,Qxc5,Re8,Rc1,Bg5,Bxg5,Qxg5,Bxd5,Rad8', 'Bxf7+,Kxf7,Qxg5', 'https://lichess.org/training/v8KYF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V8Lss', 'Rapid', 'TheHono1985', 1923, 'herochess63', 1895, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,f3,Nc6,Qd2,Nh5,Be3,e6,O-O-O,O-O,g4,Nf6,Bh6,a6,Bxg7,Kxg7,h4,b5,h5,gxh5,gxh5,b4,Nb1,e5,d5,Nd4,Qg5+,Kh8,h6,Rg8,Qe3,Bd7,Bd3,Bb5,Ne2,Bxd3,Rxd3,Nxe2+,Qxe2,Qe7,Rdd1,Nd7,b3,Rg6,Rdg1,Rag8,Rxg6,Rxg6,Qf2,Rxh6', 'Rxh6,Qg5+,Qd2', 'https://lichess.org/training/V8Lss');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8MqJ', 'Rapid', 'susumanis', 2016, 'petrov63099', 1997, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,f6,Bxg8,Rxg8,Qh5+,g6,Qxh7,Rg7,Qh6,Qe7,Ne2,Qb4+,Bc3,Qxe4,Nd2,Qe6,Nf3,Nc6,O-O,d6,Rae1,Ne7,Nf4,Qf7,Re2,Bd7,Rfe1,Rh7,Qxg6,Rg7,Qxf6,Bg4,Qxf7+,Rxf7,Ng6,Bxf3,gxf3,Kd7,Nxe7,Bxe7,f4,Rg8+,Kf1,Bh4,Bd2,Rgf8,Re4,Bg5,fxg5,Rxf2+,Kg1,Rxd2,Re7+,Kd8,h4,Rxa2,h5,Ra5,Rg7,Rff5,g6,Rxh5,Ree7,Rac5,Ref7,Rh8,Rd7+,Kc8,Rgf7,Rg8,g7,Rg5+,Kf2,Rc5,Rde7,a5', 'Rf8+,Rxf8+,gxf8=Q#', 'https://lichess.org/training/v8MqJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8MyH', 'Rapid', 'davf53', 1760, 'turbine506', 1655, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,c6,cxd5,cxd5,e4,h6,Bh4,Be7,e5,Nh7,Bxe7,Qxe7,Qg4,O-O,f4,a6,Bd3,Nc6,a3,Nxd4,Qd1,b5', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/v8MyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8Nij', 'Rapid', 'LuisiMaria', 1615, 'LuisDavid1798', 1666, 'e4,e5,Bb5,f6,Nf3,Ne7,Rf1,g6,Rh1,Bh6,Nc3,c6,Bc4,d6,d3,Nd7', 'Bxh6', 'https://lichess.org/training/v8Nij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8oUk', 'Blitz', 'YashSensei', 1516, 'mr_waits', 1754, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,c6,Nf3,Bg4,Ne4,Qc7,Nxf6+,gxf6,Be2,Nd7,h3,Bh5,c4,e6,Qc2,O-O-O,O-O-O,Nb6,Kb1,Bxf3,Bxf3,Rxd4,Be3,Rxc4', 'Bxb6,Rxc2,Bxc7,Kxc7,Kxc2', 'https://lichess.org/training/v8oUk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V8pwm', 'Blitz', 'Trmpsuxs', 1967, 'Fischergirl', 1892, 'd4,e6,c4,f5,Nc3,Nf6,e3,b6,Bd3,Bb7,Nf3,Be7,O-O,O-O,b3,Qe8,Bb2,Ne4,Qc2,Nxc3,Bxc3,Bxf3,gxf3,Qh5,Qe2,Rf6,f4,Rg6+,Kh1,Qh3,Rg1,Rh6,Rg2,d6,Rag1,g6,d5,exd5,cxd5,Nd7,Bd4,Bf6,Bxf6,Nxf6,e4,Ng4,exf5', 'Qxh2+,Rxh2,Rxh2#', 'https://lichess.org/training/V8pwm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8S8o', 'Blitz', 'HannHagen', 2381, 'heathaze', 2387, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Ndb5,Bb4,a3,Bxc3+,Nxc3,d5,exd5,exd5,Bd3,O-O,O-O,d4,Ne2,Bg4,f3,Bh5,Nf4,Bg6,Nxg6,hxg6,f4,Ne7,Qf3,Qb6,Bd2,Nf5,Rfe1,Rfe8,b3,Ne3,Re2,Nfd5,Rae1,a5,Bc4,Qc6', 'Bxd5,Nxd5,Rxe8+,Rxe8,Rxe8+,Qxe8,Qxd5', 'https://lichess.org/training/v8S8o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v8YUQ', 'Classical', 'dudeGFA', 2044, 'Kajan_kd', 2070, 'e4,Nc6,Nf3,f5,exf5,d5,Nh4,Nf6,d4,Qd6,c3,e5,Bb5,exd4,cxd4,Bd7,Bxc6,Bxc6,Nc3,Be7,Bg5,O-O,Qf3,Ne4,Bxe7,Qxe7,Nxe4,Qxh4,Ng3,Rae8+,Ne2,Qxd4,O-O,Qxb2,Ng3,Qf6,Rae1,d4,Qg4,d3,Rxe8,Rxe8,Qc4+,Qf7,Qxd3,Qxa2,Qd4,Qd5,Qxd5+,Bxd5,Nh5,a5,f6,g6,Nf4,c6,Rb1,Rb8,Nxd5,cxd5,Rb5,b6,Rxd5,b5,Rd7,a4,Rg7+,Kh8,Re7,a3,f7,Kg7', 'Re8,Kxf7,Rxb8', 'https://lichess.org/training/v8YUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V94X3', 'Rapid', 'sungur23', 1821, 'nhnsn', 1884, 'Nf3,d5,c4,e6,g3,Nf6,cxd5,exd5,Bg2,c6,O-O,Be7,d3,h6,Nbd2,Bg4,b3,Nbd7,Bb2,Nc5,Ne5,Be6,Rc1,Ncd7,Ndf3,Nxe5,Nxe5,g5,Qd2,g4,Rfd1,h5,e4,d4,f3,gxf3,Nxf3,c5,h4,Ng4,Nh2,Ne3,Re1,Rg8,Rxe3,dxe3,Qxe3,Rc8,Ba3,b6,Bb2,Bf6,e5,Be7,Nf1,Qd7,Kh2,Rd8,Rd1,c4,d4,Bd5,Bh3,Qc6,bxc4,Qxc4,Rc1,Qxa2,Qc3,Ba3', 'Qxa3,Qxa3,Bxa3', 'https://lichess.org/training/V94X3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V96iA', 'Blitz', 'Buchari27', 1885, 'AgitP_kuningan', 2001, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Nf6,Bg5,Bc5,Bc4,O-O,O-O,Bb7,a3,d5,exd5,cxd5,Nxd5,Bxd5,Bxd5', 'Qxd5,Bxf6,Qxd1,Raxd1,gxf6', 'https://lichess.org/training/V96iA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v9959', 'Classical', 'Lionnelfarid83', 1984, 'eRZGR06', 1991, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nc6,Nf3,Bb4+,Bd2,Qb6,Nc3,Nxd4,Nxd4,Qxd4,Nb5,Qxe4+,Be2,Bxd2+,Qxd2,Qe5,Rc1,Ke7,O-O,Nf6,Qb4+,Kd8,Bf3,a5,Qc4,d5,Rcd1,Bd7,Qc5,Bxb5,Qxb5,Qc7,Rc1,Qd7', 'Qb6+,Ke7,Rc7', 'https://lichess.org/training/v9959');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v99qe', 'Rapid', 'houyhnhnm2020', 1686, 'Prianiks', 1873, 'e4,c5,Nc3,e6,Nf3,a6,Be2,Qc7,O-O,Nc6,Re1,Nf6,a3,Be7,d3,O-O,Bf1,d6,h3,Bd7,Bf4,Ne5,Nxe5,dxe5,Bh2,Bc6,Ne2,Rad8,c4,Nxe4,Qc2,Nf6,Nc3,Bd6,Ne4,Nxe4,dxe4,Qe7,Re3,Bc7,Qc3,Rd4,b3,Rfd8,Bg3,Qg5,Kh2,f5,exf5,exf5,Bxe5,Bxe5+,Rxe5,Rd3,Qa5', 'Qf4+,Kg1,Qxe5', 'https://lichess.org/training/v99qe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v99Xj', 'Blitz', 'lucas_95', 1558, 'Vilgax10000', 1562, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Nc3,e6,h3,Bxf3,Qxf3,Nc6,Be3,Bd6,Bd3,Nge7,Bf4,Nf5,Bxd6,Nxd6,O-O,O-O,Ne2,Rc8,Rad1,e5,dxe5,Nxe5,Qg3,Re8,Rfe1,Qf6,Nf4,Ne4,Bxe4,dxe4,Rxe4,Rxc2,Nd5,Qf5,Rxe5,Rxe5,Ne7+,Rxe7,Qb8+,Qc8', 'Rd8+,Re8,Rxe8+,Qxe8,Qxe8#', 'https://lichess.org/training/v99Xj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V9aaG', 'Rapid', 'ferrucciolari', 1660, 'katusha', 1602, 'e4,Nf6,Nf3,Nxe4,Bc4,d5,Bb3,e6,d3,Nc5,c3,Nxb3,Qxb3,Nc6,O-O,b6,Be3,Bd6,Nbd2,Ne5,Nxe5,Bxe5,Nf3,Bd6,Rac1,Ba6', 'Qa4+,c6,Qxa6', 'https://lichess.org/training/V9aaG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V9b04', 'Rapid', 'n0rm', 1815, 'danrad', 2015, 'e4,f5,e5,d6,Qh5+,g6,Qe2,Nc6,exd6,Qxd6,Nc3,Nd4,Qd3,Bg7,Nb5,Nxb5,Qxb5+,Kf7,Bc4+,Be6,Bxe6+,Qxe6+,Qe2,Nf6,Qxe6+,Kxe6,Nf3,c5,O-O,Kd5,d3,e5,Re1,Nd7,c4+,Kc6,a4,a5,h3,Bf6,g4,h6,gxf5,gxf5,Be3,Rhg8+,Kf1,e4,dxe4,fxe4,Nd2,Bxb2,Rab1,Bc3,Rb3,Bxd2,Bxd2,Nf6,f3,Rg3,Ree3,Rag8,Bxa5', 'Rg1+,Kf2,R8g2#', 'https://lichess.org/training/V9b04');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V9cKd', 'Classical', 'Darryldeschene', 1634, 'AshFawkes', 1759, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,h3,O-O,a3,a6,Bc4,b5,Ba2,Bb7,O-O,Qe7,Nc3,Rad8,Rb1,d6,b4,Ba7,Bg5,h6', 'Nd5,Nxd5,Bxe7', 'https://lichess.org/training/V9cKd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V9g5w', 'Rapid', 'Sonsoa', 1935, 'O11O', 1787, 'e4,e5,f4,Nc6,c3,Bd6,Nf3,h6,Be2,Nf6,d3,O-O,O-O,Nh5,Nxe5,Qh4,Bxh5,Nxe5,fxe5,Bxe5,h3,d6,Qf3,Be6,Bf4,Bxf4,Qxf4,Qxh5,Nd2,Qe2,Rf3,Rae8,Raf1,Bc8,Rg3,Re6,Re3', 'Qxd2,Qf2,Qxf2+', 'https://lichess.org/training/V9g5w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v9gIT', 'Rapid', 'henderbj', 1972, 'enter4ever', 1985, 'd4,c5,d5,e6,c4,b5,cxb5,Nf6,Nc3,exd5,Nxd5,Bb7,Bg5,Qa5+,b4,cxb4,Nxf6+,gxf6,Bxf6', 'b3+,Qd2,Bb4', 'https://lichess.org/training/v9gIT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V9JJ2', 'Classical', 'rfbadv', 1778, 'HenriquezCarlosEA', 1753, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,Qf3,Qf6,Qb3,Bc5,O-O,Ne7,d3,O-O,Nd2,Ng6,Nf3,d6', 'Bg5,Qxf3,gxf3', 'https://lichess.org/training/V9JJ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V9Kmu', 'Blitz', 'AlexeyLV', 2525, 'doreality', 2629, 'g3,d5,Bg2,c6,d3,Bg4,h3,Bh5,f4,e6,Nf3,Bc5,e3,Nd7,O-O,f5,Qe1,Ngf6,Kh2,Bxf3,Bxf3,O-O,Nd2,a5,e4,g6,Nb3,Bb6,e5,Ne8,a4,Nc5,Nxc5,Bxc5,Be3,Qb6,Bxc5,Qxc5,c3,Nc7,d4,Qe7,b4,axb4,cxb4,Ra7,Rf2,Rfa8,Rfa2,Kg7,Qd2,h6,h4,Na6,Rb1,Nb8,a5,b6,Rba1,Nd7,Be2,bxa5,Rxa5,Rxa5,bxa5,c5,dxc5,Qxc5,Kg2,Nb8,a6,Ra7,Rc1,Qb6,Qa2,Nc6,Rb1,Qe3,Rb7+,Rxb7,axb7,g5,hxg5,hxg5,Qc2,gxf4,gxf4,Nd4,Qc7+,Kh6,b8=Q,Qxe2+,Kh3', 'Qg4+,Kh2,Nf3+,Kh1,Qg1#', 'https://lichess.org/training/V9Kmu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V9KN8', 'Rapid', 'DobbMeep', 2029, 'Lean14', 2067, 'e4,Nf6,Nc3,d5,Nf3,dxe4,Ng5,Bf5,f3,exf3,Qxf3,Bxc2,Qxb7,Nbd7,Bb5,h6,Nge4,Nxe4,Bxd7+,Kxd7,Nxe4,Rb8,Qd5+,Ke8', 'Qc6+,Qd7,Qxc2', 'https://lichess.org/training/V9KN8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v9KoE', 'Rapid', 'Grisalho', 1947, 'iiras', 1926, 'd4,d5,Bf4,Bf5,Nc3,e6,e3,Bb4,Bd3,Nf6,Bxf5,exf5,Nf3,Ne4,O-O,Bxc3,bxc3,Nxc3,Qd3,Ne4,Be5,f6,Bf4,Qd7,h3,Nc6,c4,h5,cxd5,Qxd5,Nd2,O-O-O,Nc4,g5,Bh2,h4,f3,Ng3,Rfb1,Rde8,Qb3,Kd8,Qxb7,Qxc4,Rc1,Ne2+,Kh1,Nxc1', 'Qxc7#', 'https://lichess.org/training/v9KoE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v9N3c', 'Rapid', 'Copperbottom84', 1795, 'Simka51', 1666, 'e4,d6,Nf3,Nc6,d4,h6,Bc4,Bd7,O-O,a6,a3,e6,d5,Na5,dxe6,Bxe6,Bxe6,fxe6,Nc3,Qd7,b4,Nc4,Bf4,Be7,b5,a5,a4,Nf6,e5,Nh5,Bc1,Nxe5', 'Nxe5,dxe5,Qxh5+', 'https://lichess.org/training/v9N3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v9NBs', 'Rapid', 'benea', 1706, 'DivadLank', 1684, 'e4,a6,d4,b5,Nf3,Bb7,Nc3,b4,Nd5,e6,Bg5,f6,Nh4,fxg5', 'Qh5+,g6,Nxg6,Nf6,Nxf6+,Qxf6,Nxh8+', 'https://lichess.org/training/v9NBs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v9O2D', 'Classical', 'capabelanca2', 1835, 'angelPavel', 1679, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Nc6,O-O,Be7,Re1,Bg4,c3,f5,h3,Bxf3,Qxf3,g6,Bh6,Bg5,Bg7,Rg8,Be5,Nxe5,dxe5,Qe7,Qe2,O-O-O,Bxe4,dxe4,g3,Bh6,a4,Bg7,a5,Qxe5,a6,b6,Na3,Rd7,Nb5,Kb8,Rad1,Rgd8,Qc4,Rxd1,Qc6,Rxe1+,Kg2,Qd5', 'Qxc7+,Ka8,Qxa7#', 'https://lichess.org/training/v9O2D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v9ODz', 'Blitz', 'stevenjan17', 1991, 'JordanEagle', 1817, 'd4,f5,Nf3,Nf6,e3,g6,Bc4,Bg7,O-O,d5,Bb3,O-O,Nbd2,c5,c4,cxd4,exd4,e6,cxd5,exd5,Ne5,Nc6,Ndf3,Qb6,Bd2,Be6,Bc3,Ng4,h3,Ngxe5,Nxe5,Nxe5,dxe5,f4,Bd4,Qd8,f3,Qh4,Kh1,Bxh3,gxh3,Qxh3+,Kg1,Qg3+,Kh1,Rf5,Bxd5+', 'Kh8,Rf2,Rh5+,Rh2,Rxh2#', 'https://lichess.org/training/v9ODz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v9oVy', 'Rapid', 'magnificous', 1637, 'flitorco', 1631, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bf5,Bc4,e6,d3,Nf6,Bf4,a5,Qd2,c6,a3,Nbd7,Ne5,Nxe5,Bxe5,Qb6,Qf4,Be7,Ne4,Bxe4,dxe4,O-O,Qg3,Qxb2,O-O,Qb6,Bf4,Nxe4,Qg4,Nf6,Qg3,Rac8,Bd3,Rfd8,Qh3,Rd4,Be5,Rd5,Bxf6,Bxf6,Qxh7+,Kf8,Qh8+,Ke7,Qh3,Bxa1,Rxa1,Qc5,Rb1,b5,Qh4+,Rg5,Kh1,Rd8', 'f4,Rd4,Qxg5+,Qxg5,fxg5', 'https://lichess.org/training/v9oVy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('v9puT', 'Classical', 'hajj5592', 1847, 'Terminator123', 1736, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Bg5,b6,Bd3,Bb7,Nge2,Nc6,a3,a5,O-O,Ne8,e5,d6,exd6,cxd6,Qc2,Nxd4,Nxd4,Bxd4,Nd5,Bxd5,cxd5,Rc8,Qe2,Bf6,Bh6,Bg7,Bxg7,Kxg7,Rfe1,Nf6,Qxe7,Qxe7,Rxe7,Nxd5,Rb7,Rb8,Rd7,Rfd8,Ra7,Ra8', 'Rxa8,Rxa8,Be4', 'https://lichess.org/training/v9puT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V9vsM', 'Rapid', 'BlinDplaYerHeRe', 2086, 'Sainbayar_1973', 1883, 'c4,e5,g3,Nc6,Bg2,Nf6,Nc3,a6,Nf3,h6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,O-O,Be7,Re1,O-O,e4,c5,Qd3,Be6,e5,dxe5,Qxd8,Raxd8,Bxb7,Bxc4,Rxe5,Bd6,Re1,Rd7,Bc6,Rc7,Bf3,Re8,Be3,Be5,Rac1,Bxc3,Rxc3,Bxa2,Ra1,Bd5,Bf4,Rb7,Rxa6,Bxf3,Rxf3,Rxb2,Bxh6,Ng4,Be3,Nxe3,fxe3,Re2,Ra7,f6,Rf4,R2xe3,Rg4,R3e7,Ra5,Rc8,Kf2,Kf7,Rc4,Rec7,Kf3,Ke6,Ke4,Rc6,g4,g6,h4,Kd6,Rc1,Re8+,Kf4,Re5,Rc2,Rd5,Rc4,g5+,hxg5,fxg5+,Ke3,Ke5,Re4+,Kf6,Rc4,Re5+,Kf3,Ke6,Rc1,c4,Ra8,c3,Re8+,Kd5', 'Rd1+,Kc4,Rxe5', 'https://lichess.org/training/V9vsM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V9YnS', 'Rapid', 'Quetere', 2009, 'Hiryur', 1891, 'd4,Nf6,c4,g6,Nf3,Bg7,Bg5,O-O,Nc3,d5,e3,c6,Be2,Bf5,Rc1,h6,Bh4,dxc4,Bxc4,Kh7,Qb3,e6,Qxb7,Nbd7,Qxc6,Rc8,Qa4', 'Nb6', 'https://lichess.org/training/V9YnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('V9zDg', 'Rapid', 'simpleman19', 2146, 'ono64', 2146, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,a6,Bc4,Nc6,O-O,Nge7,Be3,Ng6,Rc1,b5,Bd3,Be7,Nd4,Bb7,Nxc6,Bxc6,a3,O-O,f4,d5,Nxd5,Bxd5,exd5,Qxd5,Qe2,Rac8,Rcd1,Qb3,f5,Ne5,fxe6,Nxd3,exf7+,Rxf7,Rxf7,Qxf7,Rxd3,h6,Bxh6,gxh6', 'Qg4+,Kh7,Qxc8', 'https://lichess.org/training/V9zDg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('va0Ly', 'Rapid', 'GurKar', 1883, 'Caiogoia', 1874, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e5,Nf3,Be7,Bc4,Nc6,O-O,b5,Bd3,h6,Bxf6,Bxf6,Nd5,O-O,c4,bxc4,Bxc4,Bg4,h3,Bh5,Be2,Rb8,b3,Qa5,Nxf6+,gxf6,Qxd6,Nd4,Nxd4,Rbd8,Qxf6,exd4,Bxh5,Qxh5,f3,d3,Qc3,Qg5,Rad1,Qe3+,Kh1,Kh7,Rd2,Rg8,Rfd1,Rg6,Rxd3,Rxd3,Qxd3,Qf2,Qd2,Qg3,Rg1,Qe5,Qe2,a5,Qf2,Qe6,Qe3,Qe5,f4,Qh5,f5,Rg5,Qf3,Qh4,e5,Rg3,Qf2', 'Rxh3+,gxh3,Qxf2', 'https://lichess.org/training/va0Ly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Va1pi', 'Blitz', 'dpassa', 1704, 'Ranama_2020', 1705, 'e4,b6,Bc4,Bb7,Nc3,Nf6,e5,Bxg2,exf6,gxf6,f3,Bxh1,d3,d5,Bb5+,c6,Ba4,e6,Nce2,b5,Bb3,Bb4+,c3,Bd6,Bh6,Rg8,Ng3,Bxg3+,hxg3,Rxg3,Be3,Nd7,Qe2,Ne5,O-O-O,Nxf3,Nxf3,Bxf3,Qf2,Bxd1,Qxg3,Bxb3,axb3,Ke7,Bc5+,Kd7', 'Qd6+,Kc8,Qxc6+,Qc7,Qxa8+', 'https://lichess.org/training/Va1pi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Va2Lf', 'Rapid', 'saeiid', 1812, 'amir1386', 1769, 'e4,c5,Bc4,d6,d3,Nf6,Bg5,g6,Nf3,Bg7,c3,Nc6,Nbd2,O-O,O-O,Bd7,a3,Rc8,b4,cxb4,axb4,a6,d4,b5,Bb3,h6,Bh4,g5,Bg3,Nh5,Rxa6,Nxg3,fxg3,Bg4,Qe2,Qd7,Qe3,Qb7,Rfa1,Nb8,Ra7,Qc6,Rxe7,Qxc3,Qxc3,Rxc3,Rb7,Bxf3,gxf3,Bxd4+,Kf1,Be3,Ke2,Bxd2,Bxf7+,Rxf7,Rxb8+,Kg7,Kxd2,Rcxf3,Rh1,Rf2+,Kd3', 'R7f3+,Kd4,Rd2#', 'https://lichess.org/training/Va2Lf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('va2YV', 'Blitz', 'baram', 1886, 'sadok1234', 1821, 'e4,c5,g3,d6,Nc3,Nf6,Bg2,e6,d3,Nc6,f4,Be7,Nf3,Bd7,O-O,O-O,Qe2,a6,e5,dxe5,fxe5,Nd5,Ne4,Qc7,c4,Nb6,Nfg5,Nd4,Qh5,Bxg5,Nxg5,h6,Rxf7,hxg5,Rxg7+,Kxg7,Be4,Nf3+,Kh1,Nxe5,Qh7+,Kf6,Bxg5+,Kxg5,h4+,Kg4', 'Qg7+,Ng6,Qxg6+,Kh3,Bg2#', 'https://lichess.org/training/va2YV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('va3WP', 'Rapid', 'SsenBilirsin', 1718, 'rousns', 1708, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d5,exd5,Nxd5,Nxe5,Bd7,Re1,Be7,d4,O-O,Bb3,Bg5,Bxg5,Qxg5,Nxd7,Nf4,Qf3', 'Nxd4,Qxf4,Qxf4', 'https://lichess.org/training/va3WP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Va6z8', 'Blitz', 'Ahmed-abdelsattar', 2483, 'Beluna', 2345, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Nc6,Bf4,Bg4,Qb3,Qc8,Nd2,e6,Ngf3,Be7,O-O,O-O,Rfe1,Bh5,a4,Bg6,Bf1,Qd7,a5,Nh5,Be3,a6,c4,dxc4,Nxc4,Qd5,Qa4,Bd8,Nfe5,Rc8,Nxc6,Qxc6,Qxc6,Rxc6,Ne5,Rc2,Nxg6,hxg6,b4,Nf6,Rec1,Rxc1,Rxc1,Nd5,Bd2,Be7,b5,axb5,Bxb5,Ra8,g3,Bb4,Bxb4,Nxb4,Rc4,Nd5,Kf1,Rxa5,Rc8+,Kh7,Be8,f6,Bf7,Ra6,h4,g5,h5,Rc6', 'Bg6+,Kh6,Rh8#', 'https://lichess.org/training/Va6z8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('va7D9', 'Rapid', 'mathias135', 1626, 'Husky2323', 1627, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bb6,Nc3,d6,Nxc6,bxc6,Bxb6,axb6,Bd3,Nf6,O-O,Ba6,Bxa6,Rxa6,b4,Ra3,Ne2,Nxe4,Re1,O-O,h3,Qg5,Qd4,Nf6,Qf4,Qg6,Ng3,Qxc2,Rec1,Qa4,Rc4,Rxa2,Rxa2,Qxa2,Rxc6,Qa7,Qc4,Rc8,Nf5,Kf8', 'Nxd6,cxd6,Rxc8+', 'https://lichess.org/training/va7D9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VA87p', 'Blitz', 'jccapetillor85', 1676, 'Torocaminos', 1758, 'd4,f5,c4,Nf6,e3,e6,Nc3,Be7,Bd3,O-O,h4,c6,h5,d5,c5,Ne4,Bxe4,fxe4,h6,g6,Nh3,Nd7,Nf4,Rxf4,exf4,b6,b4,bxc5,bxc5,Ba6,Be3,Bd3,f3,Bh4+,Kd2,Bf6,fxe4,dxe4,Qb3,Kf7,g4,Rb8,Qa4,Nxc5,Qxc6,Rb2+,Kc1,Rc2+,Kd1,Nd7,Rc1,Rxc1+,Kxc1,Nf8,Qb7+,Be7,Nxe4,Qa5,Nd6+,Kg8,Qxe7', 'Qc3+,Kd1,Qc2+,Ke1,Qe2#', 'https://lichess.org/training/VA87p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vA9jS', 'Blitz', 'HMG55', 1993, 'juandiegovillegas', 1658, 'e4,e5,Bc4,Nc6,d3,Bc5,c3,Nf6,h3,d6,Nf3,O-O,a4,Be6,Nbd2,Bxc4,Nxc4,a6,b4,Ba7,Bg5,h6,Be3,a5,b5,Bxe3,Nxe3,Ne7,O-O,Ng6,Nf5,c6,c4,d5,exd5,cxd5,Re1,dxc4,dxc4,Qc8,Ne3,Rd8,Qe2,Nf4,Qa2,Nxh3+,gxh3,Qxh3,Nxe5,Re8,Ng2,Rad8,c5,Rd5,f4,Kh7,Qc2+,Kh8,Nxf7+,Kg8,Ne5,Red8,Qc4,Kh7,Qc2+,Kh8,Nf7+,Kg8,Nxd8,Rxd8,c6,bxc6,bxc6,Ng4,c7', 'Qh2+,Kf1,Qh1+,Ke2,Qxg2#', 'https://lichess.org/training/vA9jS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VAAxs', 'Blitz', 'Carpionea', 2029, 'FM Heisenberg01', 2688, 'e4,g6,d4,Bg7,c3,c5,Ne2,cxd4,cxd4,d5,Nbc3,dxe4,Nxe4,Nf6,Nxf6+,Bxf6,Be3,O-O,h3,Nc6,g3,Be6,Bg2,Bd5,O-O,Bxg2,Kxg2,Qd5+,Kg1,Rfd8,Qa4,Nxd4,Nxd4,Bxd4,Bxd4,Qxd4,Qxd4,Rxd4,Rfe1,Kf8,Rac1,Rad8,Rc7,R4d7,Rc3,e6,Rb3,Rd1,Kf1,Rxe1+,Kxe1,b6,Rc3,Ke7,Ke2,Rd7,Rc6,Kd8,Rc4,Rd5,Rh4,h5,Rc4,Kd7,a3,Rb5,b4,Rd5,Rc3,Rd4,Ke3,e5,f4,f6,fxe5,fxe5,Rc2,g5,Rf2,Ke6,Rc2,Kd5,Rc8,Rc4,Rd8+,Ke6,Ra8,Rc3+,Kf2,Rxa3,Rh8,Ra2+,Kf3,Kd5,Rxh5,Ra3+,Kf2,Ke4,Rxg5,Ra2+,Kg1,a5,bxa5,bxa5,Rg8,a4,Ra8,Kf3,g4,Kg3,g5', 'Ra1#', 'https://lichess.org/training/VAAxs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VaBSI', 'Classical', 'Parrao', 1731, 'firulaysmarce', 1765, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bc4,d5,exd5,cxd5,Bxd5,Rb8,O-O,Ne7,Re1,O-O,Bg5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/VaBSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vacij', 'Blitz', 'drogon74', 1781, 'buscha', 1789, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,cxd4,cxd4,Bb4+,Nbd2,Ne7,a3,Ba5,b4,Bb6,Nb3,Ba4,O-O,Rc8,Be3,O-O,Qd3,Nf5,Nc5,Bxc5,dxc5,a6,Rfc1,Rc6,Nd4,Nxd4,Qxd4,f6,exf6,Qxf6,Qd2,h6,Rc3,Rd8,f4,d4,Rd3,Rc7,Bxd4,Qf5,Rg3,Rcd7,Rd3,Qe4,Re1,Qf5,Re5,Qg4,Qe3,Bb5,Rd2,Qg6,Bc3', 'Qb1+,Qe1,Qxe1+,Rxe1,Rxd2,Bxd2,Rxd2', 'https://lichess.org/training/Vacij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VAFtK', 'Rapid', 'Igorevs', 2009, 'RandomJim', 1887, 'e4,e5,f4,exf4,Nf3,d6,Bc4,h6,d4,g5,Nc3,Bg4,h3,Bh5,b3,Nc6,Bb2,Bg7,Nd5,Nge7,Qd2,Rg8,O-O-O,a6,Rde1,Qd7,e5,O-O-O,Nxe7+,Qxe7,Ba3,Qd7', 'e6,fxe6,Bxe6,Qxe6,Rxe6', 'https://lichess.org/training/VAFtK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vAFy6', 'Rapid', 'AymanP', 1656, 'kurdchess1368', 2044, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,a3,d5,exd5,Nxd5,Ne4,Be6,O-O,Be7,b4,Nf6,Bxe6,fxe6,Ng5,Qd7,Bb2,Nd5,Nf3,Bf6,Re1,Qd6,Nbd2,e4,Bxf6,gxf6,Nxe4,Qf4,c4,Nde7,d4,Nf5,g3,Qh6,Nc5,e5,dxe5,fxe5,Nxe5,Nxe5,Rxe5,Rad8,Qg4+,Ng7,Rh5', 'Qxh5,Qxh5,Nxh5', 'https://lichess.org/training/vAFy6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vAh6q', 'Classical', 'mthslky', 1758, 'Shivanidsp', 1656, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Nc3,Bc5,O-O,O-O,Bg5,Be7,Re1,d5,exd5,cxd5,Nxd5,Nxd5,Bxe7', 'Nxe7,Qxd8,Rxd8', 'https://lichess.org/training/vAh6q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VAHDG', 'Rapid', 'filipenko', 1796, 'apis16', 1789, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,Nf3,O-O,e3,c6,Be2,dxc4,Bxc4,Nd5,Bxe7,Qxe7,Bb3,b5,O-O,Ba6,Re1,Nd7,a4,b4,Ne4,Bb7,Bc2,a5,Bd3,h6,b3,f5,Nc5,Nxc5,dxc5,Qxc5,Rc1,Qd6,Nd4,e5,Ne2,Rfd8,Bc4,Kh8,Qc2,f4,exf4,Nxf4,Ng3,c5,Nf5,Qg6,g3,Qc6,f3,Nh3+,Kg2,Qxf3+,Kxh3,Qh5+,Nh4,Rd4,Qg6,Rxh4+,gxh4,Qf3+,Qg3', 'Bc8+,Be6,Bxe6#', 'https://lichess.org/training/VAHDG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VaI8X', 'Rapid', 'Ajay_juyal_Lee', 1716, 'humanbeing1', 2019, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,a6,Bf4,Nf6,Qe2,Bb4,O-O,O-O,Rac1,Qa5,Bb3,e5,Be3,d6,Rfd1,Bg4,a3,Bxc3,Rxc3,Nxe4,Rc4,d5,Ra4,Qb5,Qxb5,axb5,Rxa8,Rxa8,Bxd5,Nf6,Bxc6,bxc6,Rc1,Bxf3,gxf3,Rc8,Rc5,Nd5,Rc1,f6,Bc5,Kf7,Kg2,Ke6,b4,Nf4+,Kh1,Nd3,Rc2,Nxc5,Rxc5,Kd6,Kg2,Ra8,Rc3,Rc8,Kg3,f5,f4,e4,f3,Kd5,Rc5+,Ke6,fxe4,fxe4,Re5+,Kf6,Rxe4,Ra8,Re3,Kf5,Rc3,Ra6,h4,h5,Kf3,g6,Rc5+,Kf6,Rc3,Ke6,Ke4,Kf6,Kd4,Ke6,Re3+,Kf5,Rf3,Kg4,Ke4,Kxh4,f5,g5,f6,Ra8,Rc3,g4,Rxc6,Rxa3,f7,Rf3,Rc7,Kg3', 'Rc3,Rxc3,f8=Q', 'https://lichess.org/training/VaI8X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vAiI1', 'Blitz', 'SimonPucko', 1570, 'sennamohan', 1595, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,Na4,O-O,Nxc5,dxc5,h3,Qe7,O-O,Na5,Bb3,Nxb3,axb3,h6,Ra5,b6,Ra2,Bb7,b4,cxb4,b3,Rfd8,Qe2,a5,Bb2,Nd7,Re1,f6,d4,Ba6,Qe3,Qd6,dxe5,fxe5,Raa1,Re8,Rad1,Qe7,Rd2,Bb5,Red1,Qf6,Rxd7,Bxd7,Rxd7,Qc6,Rd1,Qxc2,Bxe5,Qxd1+,Kh2,Rad8,Bxc7,Rd3,Qf4,Rf8,Qe5,Qe2,Qe6+,Kh8,Be5,Qxf2', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/vAiI1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VaowG', 'Rapid', 'TheDeco16_PL', 1670, 'fidias', 1654, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Nf3,O-O,Bd3,d6,h3,a6,Qd2,b5,Bh6,b4,Bxg7,bxc3,Qxc3,Kxg7,Qxc6,Bd7,Qc3,Qb6,O-O,Rfc8,Qb3,Qc7,Rac1,Be6,Qa3,Nh5,Rfe1,Nf4,Qa4,Bd7,Qd4+,e5,Qe3,Rcb8,b3,Qa5,Ra1,Bb5,Bxb5,axb5,Red1,Rd8,Kh2,Qa3,g3,Ne6,Qd3,Qb2,a4,bxa4', 'Rdb1,Qxb1,Rxb1', 'https://lichess.org/training/VaowG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vapa8', 'Blitz', 'Shishka8g', 1654, 'samchess27', 1639, 'e4,e6,d4,b6,c4,Bb7,d5,Qe7,Nf3,exd5,cxd5,Qxe4+,Qe2,Bxd5,Nc3,Qxe2+,Bxe2,Bb7,Bc4,h6,Ne5,Nc6,Nxf7,Rh7,Bd3,g6,Bxg6,Rxf7,Bxf7+,Kxf7,O-O,Re8,Nd5,Bd6,Be3,Re5,Nc3,Ke8,Rfe1,Kd8,f4,Rf5,g4,Rf7,f5,Kc8,Nd5,h5,Bg5,hxg4', 'Re8+,Nd8,Rxd8#', 'https://lichess.org/training/vapa8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VaQCG', 'Rapid', 'stevedgopce228', 1959, 'Altatis', 1945, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kxf2,Nxe4+,Kg1,Qh4,Qf3,Nd4,Qf1,Rf8,d3,Nd6,Nxd6+,Ke7,Nxc8+', 'Raxc8,Bf4,Rxf4', 'https://lichess.org/training/VaQCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vAR8Q', 'Rapid', 'hurricann', 1913, 'OIA', 1807, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d6,d4,cxd4,Nxd4,Bd7,Nb5,Ne5,N1a3', 'Nxc4,Nxc4,Bxb5', 'https://lichess.org/training/vAR8Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VArZ2', 'Rapid', 'renansrangel', 1978, 'VAC_JF', 1985, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Qe2+,Be7,O-O,a6,Bxd7+,Qxd7,Re1,Nc6,c3,Nf6,d4,O-O,Bg5,h6,Bf4,Bd6,Bxd6,Qxd6,Nbd2,Rfe8,Qd3,Ne4,Nxe4,dxe4,Rxe4,cxd4,cxd4,Red8,Rae1,Rac8,Qe3,Qd5,b3,Nb4,Qd2,a5,Re5,Qd6,Rc1', 'Rxc1+,Qxc1,Nd3,Qf1,Nxe5', 'https://lichess.org/training/VArZ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vasrh', 'Classical', 'pankajs6', 1709, 'Quetzalc', 1697, 'd4,Nf6,Nc3,e5,Bg5,exd4,Qxd4,Nc6,Qe3+,Be7,Bxf6,gxf6,Nd5,d6', 'Nxf6+,Kf8,Qh6#', 'https://lichess.org/training/vasrh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vat69', 'Rapid', 'gonzalo08perez', 1810, 'TommyDaCat4', 1855, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Be2,Nf6,O-O,Bd6,h3,O-O,Nc3,Nc6,d3,b6,Bg5,Be7,Qd2,Bb7,Rad1,d4,Ne4,Nxe4,dxe4,Bxg5,Nxg5,h6,Nf3,Re8,Bd3,Ne5,Nxe5,Rxe5,f3,Qh4,c3,Rg5,cxd4,Qxh3', 'Qxg5,hxg5,gxh3', 'https://lichess.org/training/vat69');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VATkr', 'Rapid', 'WATCHTHEEE', 1950, 'Eaglebirdeye', 1869, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Na5,Bxf7+,Kxf7,Nxe5+,Ke8,Qh5+,g6,Nxg6,hxg6,Qxh8,Nf6,d3,Qe7,Bg5,Bb7,Bxf6,Qf7,Nc3,d6,O-O,Kd7,f4,Nc6,e5,dxe5,fxe5', 'Bc5+,Kh1,Rxh8', 'https://lichess.org/training/VATkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vatSa', 'Bullet', 'QuidQuidSemper', 1970, 'reza2172', 1995, 'e4,Nc6,d4,d5,exd5,Qxd5,Be3,e5,c4,Qa5+,Nc3,exd4,Bxd4,Nxd4,Qxd4,Nf6,Nf3,Bb4,Bd3,Bxc3+,Qxc3,Qxc3+,bxc3,Be6,Nd4,O-O-O,O-O-O,Rhe8,Rhe1,Nd7,Nf5,g6,Ng7,Re7,Bf5,gxf5,Nxf5,Ree8,Ng7,Rg8,Nxe6,fxe6,Rxe6,Rxg2,Rh6,Rxf2,Rxh7,c5,h4,Rf4,h5,Rxc4,Kc2,Rh4,h6,b5,Rd6,Kc7,Rg6,c4,Rgg7,Kc6,Rg6+,Kc7,Re7,Rh2+,Kd1,Rxa2,h7,Rh8,Rg8,Rxh7,Rxh7,Kc6,Rgg7,Nc5,Rg6+,Kd5,Rh5+,Ke4,Rxc5,Kd3,Rxb5', 'Ra1+,Rb1,Rxb1#', 'https://lichess.org/training/vatSa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VAv19', 'Blitz', 'stainle1', 1725, 'andrei121212', 1705, 'e4,e5,Nc3,Bc5,Nf3,Nc6,Bc4,d5,exd5,Nce7,Nxe5,Nf6,d6,cxd6,Nxf7,Qb6,Nxh8,Bxf2+,Kf1,Bh4,d4,Bg4,Qd3,Bf5,Qe2,Qxd4,Bd3,Bg4,Qd2,O-O-O,Nf7,Rf8,Nxd6+', 'Qxd6,Bf5+,Nxf5,Qxd6,Nxd6', 'https://lichess.org/training/VAv19');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VAVev', 'Classical', 'mandarijn', 2150, 'QuadriplegicCow', 1800, 'd4,Nf6,c4,e6,Nf3,d5,g3,dxc4,Bg2,Bb4+,Nc3,O-O,O-O,Nc6,e3,Rb8,Qc2,b5,Rd1,a6,e4,h6,d5,exd5,exd5,Ne7,Ne5,Bf5,Qe2,Bd6,Bf4,Re8,Qf3,Bxe5,Bxe5,Bg4,Qf4,Bxd1,Bxf6,gxf6,Rxd1,Ng6,Qxh6,f5,h4,Qd6,h5,Ne5,Qg5+,Kf8,Qxf5,Qd7,Qh7,Qg4,h6,Qg6,Qh8+,Qg8,Qf6,Ng4,Qf4,Rb6,Qxc7,Rxh6,d6,Qh8,Qc5,Rh1+,Bxh1', 'Qh2+,Kf1,Qxh1#', 'https://lichess.org/training/VAVev');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vaVnN', 'Classical', 'a16912964h', 1612, 'Saurav_anand', 1637, 'e4,c6,c4,d5,c5,dxe4,Nc3,Nf6,d3,exd3,Bxd3,e6,Be3,Nd5,Bd4,Nd7,Nce2,Nxc5,Bc2,Qa5+,Nc3,b5,Nf3,b4,O-O,bxc3,Bxc3,Nxc3,bxc3,Qxc3,Nd4,Ba6,Re1,Nd7,Be4,Bc5,Nxc6,Rd8,Kh1,Rc8,Rc1,Qf6,Bf3,O-O,Qxd7,Bxf2,Rf1,Bxf1,Ne7+,Kh8', 'Rxc8,Qxe7,Qxe7', 'https://lichess.org/training/vaVnN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VaVX3', 'Blitz', 'tatakowersumbar', 1947, 'dJoeRix71', 2156, 'd4,d5,f4,c5,e3,Nc6,c3,Nf6,Bd3,Qc7,Nf3,Bg4,O-O,e6,Qe1,Bd6,Ne5,Bf5,Qe2,O-O,Nd2,Rae8,Ndf3,a6,Bd2,b5,Be1,Bxd3,Qxd3,Ne4,g4,f6,Nxc6,Qxc6,Bg3,c4,Qe2,g5,a3,Rf7,fxg5,Bxg3,hxg3,Nxg3,Qh2,Nxf1,Rxf1,Ref8,Kg2,Rg7,Rh1,Qd7,Qh6,Rg6,Qh5,Qg7,Kf2,fxg5,Ke2,h6,Ne5,Rgf6,Rh2,a5,Rg2,b4,axb4,axb4,cxb4,Qb7,b5,Qxb5,Ng6,c3+,Kd1,Rf1+,Kc2,Qxb2+,Kd3,Qxg2', 'Ne7+,Kg7,Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/VaVX3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vawNJ', 'Classical', 'Cantergiani', 1803, 'SBT-Sokolov-DV', 1726, 'd4,d5,f4,e6,Nf3,Bd7,a3,Nf6,Nbd2,Nc6,e3,Bd6,Ne5,Nxe5,fxe5,Ne4,Nxe4,dxe4,Qg4,Be7,Qxg7,Rf8,Qxh7,c6,Qxe4,Qc7,Bd2,O-O-O,O-O-O,c5,g3', 'Bc6,Qf4,Bxh1', 'https://lichess.org/training/vawNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VaXC6', 'Rapid', 'real_manbearpig', 1635, 'andrei-Roslavl', 1627, 'e4,g6,d4,Bg7,Nf3,d5,e5,Bg4,h3,Bxf3,Qxf3,f6,e6,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,Nh6,Nc3,Nf5,Rd1,Qd6,Qe2,O-O,Na4,Bh6,Bxh6,Nxh6,Nc5,Nf5,c3,a5,a4,Ng7,h4,f5,Rd3,Rf6,Re3,f4,Re5,Rf5,Rxf5,Nxf5,h5,Rf8,hxg6,hxg6,Qg4,Rf6,Re1,Nh6,Qg5,Kg7,c4', 'Rf5,Qh4,Rh5,Qxh5,gxh5', 'https://lichess.org/training/VaXC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VaxtO', 'Rapid', 'fishstone', 2090, 'inoxman', 2028, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Bd6,Qe2+,Be6,Nc3,c6,O-O-O,Nbd7,g3,Qc7,Bg2,h6,Bd2,b5,a3,a5,Na2,Nb6,Ne5,Nc4,f4,Nxd2,Qxd2,O-O,Qc3,Rfc8,h4,Rab8,b4,Nd7,Bh3,Bxh3,Rxh3,Nxe5,fxe5,Be7,g4,Ra8,Kb2,axb4,Nxb4,Ra4,Ra1,Qa5,Qb3,Bxb4,axb4,Qxb4,Rxa4,Qxa4,Qxa4,bxa4,Ka3,Ra8,Rc3,Ra6,Rc5,Kf8,c4,dxc4,Rxc4,Ke7,Rxa4,Rxa4+,Kxa4,Ke6,Kb4,Kd5,Kc3,g6,Kd3,h5,g5,c5,dxc5,Kxc5,Ke4,Kc4', 'e6,fxe6,Ke5', 'https://lichess.org/training/VaxtO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vaZZH', 'Rapid', 'billypoluan', 1672, 'Jayasimha', 1711, 'e4,e5,Nf3,d6,Nc3,Nf6,d4,d5,exd5,Nxd5,Nxe5,Nxc3,Qf3,Qf6,Qxc3,Bd6,f4,Qe7,Bc4', 'Bb4,Qxb4,Qxb4+', 'https://lichess.org/training/vaZZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VB3Eg', 'Rapid', 'SuperHumanTheBest', 2044, 'VISHWANAD_ANAND', 1885, 'e4,e6,Nf3,d5,e5,c5,b4,cxb4,d4,Nc6,a3,b3,c3,Qb6,Bb2,Nge7,Bd3,Ng6,Qd2,Be7,h4,Bd7,h5,Nf8,Qc1,Na5,Nbd2,O-O-O,Qd1,Ba4,Rc1,Kb8,c4,dxc4,Nxc4,Nxc4,Rxc4,Bb5,Rc3,Bxd3,Qxd3,g6,Rxb3,Qa5+,Bc3,Qd5,Rb5,Qa2,O-O,a6,Rb6,Qd5,Rfb1,Nd7,R6b2,Nc5,Qc2,Ne4,Rxb7+,Ka8,Qb2,Nxc3,Ra7+,Kxa7', 'Qb6+,Ka8,Qxa6#', 'https://lichess.org/training/VB3Eg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vb3Qy', 'Classical', 'zahraghorbani', 1781, 'Shlezy', 1676, 'e4,e6,d4,d5,Nd2,Nc6,Ngf3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Bg5,Qf5,Bd3,Qa5+,Bd2,Qb6,Bc3,Bb4,Qd2,Bxc3,Qxc3,O-O,O-O,Rd8,Be4,Nxd4,Nxd4,Rxd4,Bf3,e5,Rfd1,c5,b3,Bg4,Bxg4,Rxg4,Qxe5,Qc6,Rd5,f6,Qf5', 'Rg5,Qxg5,fxg5', 'https://lichess.org/training/Vb3Qy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VB5Nb', 'Blitz', 'operationbadhabit', 2296, 'FM rikchess', 2316, 'e4,c5,Nc3,e6,Nf3,d5,Bb5+,Bd7,exd5,Bxb5,Nxb5,exd5,d4,c4,O-O,a6,Re1+,Be7,Nc3,Nf6,Qe2,Nc6,Ne5,O-O', 'Nxc6,bxc6,Qxe7', 'https://lichess.org/training/VB5Nb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vb6dt', 'Rapid', 'DenPASHKA', 1772, 'DimkaKim', 1829, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,Re1,Ng4,Rf1,Nd4,Bc4,d6,c3,Nc6,d3,Qf6,h3,Nxf2,Rxf2,Bxf2+,Kxf2,Be6,Bb5,O-O,Be3,Ne7,Nd2,c6,Ba4,Qg6,Nh4,Qf6+,Ndf3,Ng6', 'Bg5,Qxg5,Nxg5', 'https://lichess.org/training/vb6dt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vb7Tx', 'Rapid', 'EneaPa', 1698, 'femilesi', 1782, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Nc6,h3,Nf6,Re1,Be7,d4,exd4,e5,dxe5,Nxe5,Nxe5,Rxe5,O-O,Nd2,Bd6,Re1,b6,Ne4,Nxe4,Rxe4,Bb7,Rxd4,Qf6,Be3,Rad8,c3,Bc5,Rxd8,Rxd8,Qg4,Bxe3,fxe3,Rd2,Rf1,Rxg2+', 'Qxg2,Bxg2,Rxf6,gxf6,Kxg2', 'https://lichess.org/training/vb7Tx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBack', 'Classical', 'Beutlinbeu', 1736, 'vranishjoti', 1751, 'f4,e6,Nf3,d6,e3,a6,b3,b6,Bb2,h6,c4,Nd7,Nc3,Bb7,Bd3,g6,Be4,Bxe4,Nxe4,Ndf6,Nxf6+,Nxf6,g4,Bg7,g5,hxg5,fxg5,Nh5,Bxg7,Nxg7,Qc2,e5,O-O-O,Ne6,h4,Qd7,Qe4,Rb8,d4,Kf8,dxe5,Qe7,exd6,cxd6,Nd4,Nxd4,Rxd4,Qxe4,Rxe4,Kg7,Rd1,Rbd8,Red4,b5,c5,Rc8,b4,dxc5,bxc5,Rxc5+,Kb2,a5,a3,Re8,e4,Rec8,R1d2,Rc4,e5,b4,axb4,Rxb4+,Rxb4,axb4,Kb3,Rc3+,Kxb4,Re3,Rd5,Re4+,Kc5,Rxh4,Rd7,Rh5,e6,Rxg5+,Kd6,Rf5,e7,Rf6+', 'Kc7,Re6,Kd8', 'https://lichess.org/training/VBack');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vbAFh', 'Rapid', 'drganjac', 1652, 'JoanGarciaNogueras', 1662, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,g6,Bg5,Bg7,Bb5+,Nc6,d5,a6,Ba4,b5,Bxb5,axb5,dxc6,Qc7,Bxf6,Bxf6,Nf3,Qxc6,O-O,O-O,Re1,b4,Nd5,Qb7,Qc2,Bg7,a3,bxa3,Rxa3,Be6,Rxa8,Rxa8,b3,Bxd5,exd5,Qxd5,h3,Rb8,Qc4,Qb7,Ng5,Qxb3,Qxb3,Rxb3,Rxe7,Rb1+,Kh2,Be5+,g3,h6,Nxf7,Re1,Rb7,Re2,Kg2,h5,Rd7,Bd4,Ng5,Bxf2,Nf3,Bc5+,Kh1,Re3,Rd8+,Kh7,Ng5+,Kh6,h4,Rxg3,Rh8+,Kg7,Rh7+,Kf6', 'Ne4+,Kf5,Nxg3+', 'https://lichess.org/training/vbAFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vbbLb', 'Blitz', 'MellWin', 2145, 'Risent', 1885, 'e4,e6,d4,d5,Nc3,Nf6,exd5,exd5,Nf3,Bg4,h3,Bh5,Bd3,Bd6,g4,Bg6,Qe2+,Qe7,Qxe7+,Kxe7,g5,Bxd3,gxf6+,gxf6,cxd3,c6,Nh4,Na6,Nf5+,Kd7,Nxd6,Kxd6,Bf4+,Kd7,Kd2,b5,Ne2,Rae8,Rhg1,Nb4,Ng3,a5,Nh5,Re6,Ng7,Re7,Nf5,Re6,Rg7,h5,Rxf7+,Kd8,Re1,Rhe8,Bd6,Rxe1', 'Bc7+,Kc8,Nd6#', 'https://lichess.org/training/vbbLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBbO8', 'Rapid', 'maxiakman', 1713, 'mktesasa', 1720, 'd4,d5,c4,Be6,cxd5,Bxd5,Nf3,Bxf3,exf3,e5,Be3,Bb4+,Nc3,Bxc3+,bxc3,exd4,Bxd4,Qe7+,Be2,f6,O-O,Nd7,Re1,Qf7,Bc4+,Qe7,Rxe7+,Nxe7,Qe2,c5,Re1,O-O-O,Bxc5,Nxc5,Qxe7,Na4,Bb5,Nxc3,Qe6+,Kb8,Be2,Rhe8,Qf7,Rxe2,Kf1', 'Rxe1+,Kxe1,Rd1#', 'https://lichess.org/training/VBbO8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VbBwY', 'Rapid', 'pacman314', 1819, 'Ertugrulgazi58', 1849, 'e4,c6,d4,d5,e5,Bf5,f4,h6,Nf3,f6,Bd3,Bxd3,Qxd3,fxe5,Qg6+,Kd7,Nxe5+,Kc8,Nf7,Qa5+,Nc3,Nf6,Nxh8,Nbd7,O-O,Kc7,Nf7,Rc8,Ne5,Nb6,Bd2,Qb4,Ne4,Qxd4+,Kh1,Nxe4,Bc3,Qc5,h3,Nc4,Qf5', 'Ng3+,Kh2,Nxf5', 'https://lichess.org/training/VbBwY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vBeAv', 'Blitz', 'Dragorac', 1690, 'Millsailor', 1671, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,e6,e5,d5,Bb3,Bb4,bxc3,Ba5,Ba3,Ne7,Nh3,O-O,Bc2,Nbc6,Bxh7+,Kh8,Qh5,g6', 'Bxg6+,Kg7,Qh7#', 'https://lichess.org/training/vBeAv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VbFOO', 'Rapid', 'EnergeticHold13', 2073, 'Nap076', 1956, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,exd4,e5,Ng4,Bf4,O-O,h3,Nh6,Bxh6,gxh6,Nbd2,d5,exd6,cxd6,Nb3,Qf6,Qd2,Be6,Bb5,Bb6,Rad1,Kh8,Bxc6,bxc6,Nbxd4,Rg8,Nxe6,fxe6,Qxd6,Qxf3', 'Qe5+,Rg7,Qxg7+,Kxg7,gxf3', 'https://lichess.org/training/VbFOO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBhfc', 'Rapid', 'venomisme', 1802, 'locurej', 1841, 'e4,d5,e5,Bf5,d4,e6,Ne2,Bb4+,c3,Ba5,Ng3,Bg6,h4,h5,Be2,Nc6,Be3,Nge7,Bxh5,Bxh5,Nxh5,Kf8,O-O,Nf5,g3,Nxh4,Qg4,Ng6,f4,Nce7,Nd2,Nf5,Rad1,Nxe3,Qf3,Nxd1,f5,exf5,Qxf5,Qe7', 'Qxg6,Rxh5,Qxh5', 'https://lichess.org/training/VBhfc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBHH2', 'Classical', 'ugrofin', 1663, 'swagatadas', 1603, 'd4,e5,dxe5,Bc5,c4,d6,a3,Nc6,exd6,Nge7,dxe7', 'Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/VBHH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vBI6m', 'Rapid', 'alexandrodelfer', 1673, 'sslnx', 1720, 'e4,e5,Nf3,Nc6,Nc3,Bc5,h3,d6,Bc4,Nf6,d3,h6,O-O,O-O,Bd2,Bd7,Ne2,Qc8,a3,Nd4,Nexd4,Bxd4,c3,Bb6,b4,a6,Re1,c6,d4,d5,exd5,cxd5,Bb3,e4,Ne5,Be6,Bf4,Qxc3,Be3,Qc7,Rc1,Qd6,Bf4,Qe7,f3,Nh5,Be3,Qh4,Bf2,Ng3,fxe4,Bxh3,gxh3,Qxh3,Bxg3,Qxg3+,Kh1,Qh4+,Kg1,dxe4,Qg4', 'Bxd4+,Kg2,Qf2+,Kh3,Bxe5', 'https://lichess.org/training/vBI6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBI88', 'Rapid', 'Fr1schkaese', 2031, 'xtraid', 2088, 'e4,c5,c4,d6,Nc3,Nf6,g3,e6,Bg2,Be7,Nge2,O-O,O-O,a6,d3,Nc6,h3,Rb8,f4,b5,cxb5,axb5,Qe1,Qb6,Kh2,Re8,g4,Qc7,g5,Nd7,Qg3,b4,Nd1,f6,b3,fxg5,Bb2,e5,fxg5,Qd8,Bc1,Nf8,Ne3,Bxg5,Nf5,Ne6,h4,Bxc1,Raxc1,Ne7', 'Nh6+,Kh8,Nf7+', 'https://lichess.org/training/VBI88');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vBIBt', 'Classical', 'Walquersantos', 1770, 'AyrtonSennaCpBlanca', 1741, 'e4,e5,Nf3,Nc6,Bb5,Nf6,c3,Bc5,d3,a6,Ba4,h6,O-O,d6,h3,Bd7,Re1,Qc8,Be3,Bxe3,Rxe3,Bxh3,gxh3,Qxh3,Nh2,Qd7,d4,b5,Bc2,O-O,Nd2,Qe7,d5,Na5,b3,c6,c4,cxd5,exd5,bxc4,bxc4,Rac8,Bd3,Nb7,Ndf1,Nc5,Ng3,Nxd3,Qxd3,Nh7,Nf5,Qg5+,Rg3,Qf4,Rxg7+,Kh8,Nxd6,Kxg7,Nxc8,Rxc8,Qg3+,Qxg3+,fxg3,Rxc4,Rd1,Nf6,d6,Nd7,Nf3,Kf8,Nh4,e4,Nf5,h5,Rb1,Ke8,Ng7+,Kd8,Nxh5,Rd4,Rb7,Rxd6,Ra7,Ne5,Ng7,Rg6,Nf5,Rf6,Ne3,Nf3+,Kg2,Ne1+,Kh3,Ke8,Ra8+,Kd7,Nd5,Rh6+,Kg4,Kd6', 'Rxa6+,Kxd5,Rxh6', 'https://lichess.org/training/vBIBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBkAv', 'Bullet', 'GM slogger', 2713, 'WindyCamel', 2466, 'b3,Nf6,Bb2,g6,e4,Bg7,e5,Nh5,c4,d6,Be2,Nf4,Bf3,dxe5,Kf1,Nd3,Bc3,O-O,Ne2,f5,Nc1,e4,Be2,Nc6,Nxd3,exd3,Bf3,Nd4,h4,e5,Bd5+,Kh8,Bxd4,exd4,h5,Qg5,hxg6,Qxg6,Qh5,Qxh5,Rxh5,c6,Bf3,b5,Na3,b4,Nb1,Re8,Bxc6,Be6,Bxa8,Rxa8,Rh3,f4,Rf3,Be5,a3,Rb8,axb4,Rxb4,Ra3,Bf5,Ke1,Kg7,Kd1,Kf6,Kc1,Bg4,Kb2,Bxf3,gxf3,Rb7,Ra6+,Kf5,c5,h5,c6,Rc7,Na3,h4,Nb5,h3', 'Nxc7,h2,Ra1', 'https://lichess.org/training/VBkAv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBKbF', 'Rapid', 'Vickrocker', 1719, 'Miguelsunderley', 1718, 'd4,d5,c4,g6,Nc3,Nf6,Bg5,c6,Nf3,h6,Bxf6,exf6,e3,Bg7,cxd5,cxd5,Bb5+,Nc6,O-O,a6,Ba4,O-O,h3,b5,Bb3,Be6,Re1,Rb8,a3,a5,Qe2,b4,axb4,axb4,Na4,Ra8,Nc5,Rxa1,Rxa1,Qc7,Rc1,Ra8,Qb5,Bf8,Nxe6,fxe6,Rxc6', 'Ra1+,Qf1,Rxf1+', 'https://lichess.org/training/VBKbF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VbKeI', 'Rapid', 'RogovTolya', 1894, 'borrom', 1927, 'e4,d6,d4,Nf6,Bd3,g6,f4,e6,c3,Bg7,Ne2,O-O,O-O,c5,Nd2,cxd4,cxd4,Ng4,Nb3,a6,e5,dxe5,fxe5,Nc6,Be4,Qh4,h3,Ne3,Rf4', 'Qxf4,Nxf4,Nxd1', 'https://lichess.org/training/VbKeI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vbkGB', 'Rapid', 'andreasn80', 2174, 'ches5no0b', 2046, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Nf6,Nxc6,bxc6,e5,Qe7,Qe2,Nd5,c4,Ba6,b3,Bb4+,Bd2,Nf4,Qe3,Ng6,Bxb4,Qxb4+,Nd2,O-O,Bd3,Qc3,O-O,Nxe5', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/vbkGB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vbKrI', 'Rapid', 'Kapil_e4', 1865, 'KapilArora', 1949, 'd4,d5,Nf3,Nf6,Bg5,Bf5,e3,Nbd7,Ne5,h6,Nxd7,Qxd7,Bxf6,exf6,Nc3,c6,a3,Bd6,Bd3,O-O,O-O,Rae8,Bxf5,Qxf5,Qd2,Qh5,g3,f5,Qd1,Qg6,Qd3,Qg5,f4,Qe7,Rae1,g6,Re2,h5,Rf3,Kg7,Nd1,h4,Kf2,Rh8,Kg1,hxg3,hxg3,Rh3,Rh2,Reh8,Rxh3,Rxh3,Nf2,Rh7,Kg2,Qe8,Qf1,Qh8,Qg1,c5,c3,cxd4,cxd4,Bc7,g4,fxg4,Nxg4,Rh4,Rg3,Qh5,Kf2,f5,Ne5,Rh2+,Rg2,Qh4+,Kf1,Rh1', 'Rxg6+,Kf8,Rg8+,Ke7,Ng6+', 'https://lichess.org/training/vbKrI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vBMvM', 'Rapid', 'veemkin', 1927, 'Truth100', 1940, 'c4,c6,Nc3,e5,g3,d6,Bg2,Be6,d3,Be7,f4,f6,fxe5,fxe5,Nf3,h6,O-O,Nf6,Nh4,O-O,Ng6,Rf7,Nxe7+,Qxe7,Bd2,Nbd7,b4,Raf8,Qc2,d5,c5,b5,cxb6,axb6,a3,c5,Nd1,Nh7,Rxf7,Rxf7,Ne3,Nhf6,Rf1,Qd6,Nf5,Bxf5,Rxf5,g6,Rf1,Kg7,Qc1,h5,bxc5,bxc5,a4,d4,a5,e4,dxe4,Qa6,Qa3,c4,Bb4,c3,Bf3,Ne5,Bc5,Nxf3+,exf3,Nxe4,Bxd4+,Kh7,Bxc3,Nxc3,Qxc3,Ra7,Ra1,Qe2,a6,Qe6,Kf2,Qb6+,Kg2,Rxa6,Rxa6,Qxa6,Qc7+,Kh6,Qf4+,Kh7,Qf7+,Kh6,Kh3', 'Qf1+,Kh4,g5#', 'https://lichess.org/training/vBMvM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vBNs7', 'Rapid', 'martinmarusic', 1949, 'Mikhil-k', 2049, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qe5+,Be2,Bd7,Nf3,Qa5,d4,e6,O-O,Nf6,Ne5,Bd6,Nc4,Qc7,Nxd6+,Qxd6,Bf3,Qc7,d5,exd5,Re1+,Be6,Nxd5,Nxd5,Bxd5,Qd7,Qb3,Nc6,Bg5,O-O,Rxe6,Nd4,Qxb7,Qxb7,Bxb7,Nxe6,Bxa8,Nxg5,Bd5,h5,h3,Rd8,Rd1,Kf8,Kf1,Ne6,Bf3,Rxd1+,Bxd1,h4,b4,Nd4,a4,Ke7,Bg4,f5,Bd1,Kd6,Ke1,Kd5,Kd2,Kc4,b5,f4,Be2+', 'Nxe2,Kxe2,Kb4', 'https://lichess.org/training/vBNs7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vbp1b', 'Rapid', 'CARaghu186', 1802, 'eltak', 1728, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,g6,Bc4,Bg7,Nf3,Nf6,O-O,O-O,e5,Ng4,Re1,Nc6,h3,Ngxe5,Nxe5,Nxe5,Bb3,d6,f4,Nc6,Kh2,Qb6,Nd5,Qd8,Be3,Be6,Rb1,a6,Bb6,Qd7,Bf2,Rad8,Nb6,Qc7,Bxe6,fxe6,Rxe6,Rxf4', 'Nd5,Qd7,Nxf4', 'https://lichess.org/training/Vbp1b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vbpET', 'Classical', 'ORB19', 1672, 'rookatkale', 1634, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d5,Bb5,Ne7,Nc3,dxe4,Nxe4,a6,Ba4,b5,Bxb5,axb5,Nxb5,Qxd1+,Kxd1,Nd5,c4,Ndb4', 'Nxc7+,Kd8,Nxa8', 'https://lichess.org/training/vbpET');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBpgl', 'Rapid', 'mach1966', 1678, 'pepbox', 1865, 'e4,e5,Nc3,Nf6,Nf3,d6,d4,Bg4,d5,c6,Be2,cxd5,Nxd5,Nxe4,Nxe5,Qa5+,Nc3,Nxc3,Qd2,Qxe5,bxc3,Be7,f3,Bg5,Qxg5,Qxc3+,Kf2,Qxa1,Qxg4,Nc6,Rd1,Qf6,Qe4+,Ne5,Qxb7,O-O,Kg1,Rfb8,Qe4,a5,Bb2,Ra7,Bd4,Rab7,c3,Rb2,f4,Rxe2,Qxe2,Qxf4,Rf1,Qg5,Qa6,h5,Qxd6,Rb2,Bf2,h4,h3,Rxa2', 'Qb8+,Kh7,Qb1+,Qg6,Qxa2', 'https://lichess.org/training/VBpgl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vbR05', 'Blitz', 'IM Wea_pawn', 2548, 'GM Ratkovic_Miloje', 2666, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,h5,h4,Bg4,Be2,Bxe2,N1xe2,e6,Bg5,Qa5+,c3,Nbd7,Qd2,O-O-O,O-O,Bd6,b4,Qc7,c4,Bxg3,Nxg3,e5,d5,Kb8,d6,Qb6,c5,Qb5,Rfc1,Qa4,Rc3,Nd5,Rb3,f6,Be3,Rhe8,Qb2,a6,Bd2,e4,Nxh5,e3,Bxe3,Nxe3,fxe3,Qb5,Qc2,Qa4,Nxg7,Re5,h5,Rh8,Qg6,Qb5,Qf7,Qe2,Qxd7,Rg5,Qh3,Rxg7,Rf1,Rxh5,Qf3,Qd2,Qf2,Qd5,e4,Qg5,Rd3,Qh6,Qf3,Rh1+,Kf2,Qh4+,Ke2,Rh2,d7,Rgxg2+,Kd1,Rg8,d8=Q+,Rxd8,Rxd8+,Ka7,Rd2,Rh3,Qf4,Qh5+,Kc1,Qh8,Qxf6,Qg8,Qb2,Qc4+,Qc2,Rc3,Kb2,Rxc2+,Rxc2,Qxb4+,Kc1,Qxe4,Rff2,Qe5,Kd1,Qa1+,Kd2,Qd4+,Kc1,Qa4,Kd2,Qa3,Kd1,Qa5,Kc1,Qb5,Kd1,Qd3+,Kc1,Qh3,Kd2,Qh1,Kc3,a5,Kb2,Qe1,Kb3', 'Qb4#', 'https://lichess.org/training/vbR05');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vBRLu', 'Blitz', 'Ekman81', 1671, 'kelale', 1607, 'd4,d5,e3,Nc6,c4,e6,Nf3,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Ne4,Bd3,Nxc3,bxc3,Qf6,cxd5,exd5,O-O,Bg4,Be2,O-O,h3,Bh5,Nh2,Bg6,Ng4,Qg5,Bd3,Ne7,Qc2,Nf5,Ne5,Rae8,Nd7,Nxe3,fxe3,Bxd3,Qxd3,Rxe3,Qd2,Rfe8,Ne5,f6,Nf3', 'Rxf3,Qxg5,Rxf1+,Kxf1,fxg5', 'https://lichess.org/training/vBRLu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vBRSO', 'Rapid', 'ky040177', 1787, 'bshoprun', 1823, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,Nc3,Ngf6,O-O,e5,d3,Be7,Bg5,O-O,h3,h6,Bh4,Nh7,Bxe7,Qxe7,Nd5,Qd8,c3,Ndf6,d4,Nxe4,dxe5,dxe5,Nxe5,Nhf6,Nxf6+,Nxf6,Qxd8,Raxd8,Rad1,Rxd1,Rxd1,Re8,Nd7,Nxd7,Rxd7,Re2,Rxb7,Rc2,a4,a5,Rb5,Kf8,Rxa5,Rxb2,Rxc5,Ra2,a5,Ke7,Kh2,Kd6,Rb5,Rxf2,Kg3,Rc2,Rb6+,Kc5,Rb8,Rxc3+,Kh2,Ra3,Ra8,Kb5,Ra7,Rxa5', 'Rxf7,Kc6,Rxg7', 'https://lichess.org/training/vBRSO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vbS2S', 'Rapid', 'amid-008', 1722, 'Sculler', 1706, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,a3,c5,Nf3,a6,Be3,cxd4,Nxd4,Bg6,Bd3,Bxd3,Qxd3,Nc6,Nxc6,bxc6,O-O,Ne7,f4,Nf5,Bf2,c5,Ne2,c4,Qc3,Be7,b4,O-O,Ng3,Nxg3,Bxg3,a5,f5,axb4,axb4,Rxa1,Qxa1,Bxb4,f6,gxf6,exf6,Bc5+,Kh1,Qb6,Qd1,Rb8,Bxb8,Qxb8,Qg4+,Kf8,Qg7+,Ke8,Qg8+,Bf8,Qxh7,Qb2,Qh5,Qxc2,Re1,Kd7,h3,Qd2,Rb1,c3,Qh4', 'c2,Qa4+,Kd6,Qa3+,Ke5', 'https://lichess.org/training/vbS2S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBsBi', 'Rapid', 'Z_Ekrami', 1893, 'GRomano77', 1828, 'e4,c5,Bc4,a6,a3,b5,Bd5,Nc6,d3,Bb7,Nc3,e6,Bb3,Nf6,Bg5,Be7,h3,h6,Bd2,Nd4,Nf3,Nxb3,cxb3,d5,exd5,Nxd5,Nxd5,Bxd5,O-O,O-O,Ne5,Bf6,Ng4,Bxb2,Rb1,Bd4,Bxh6,gxh6,Nxh6+,Kh7,Qh5,Qf6', 'Ng4+,Kg7,Nxf6', 'https://lichess.org/training/VBsBi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vBsBo', 'Rapid', 'Xheriot', 1649, 'Pioneczkowy', 1641, 'd4,e6,g3,Nf6,Bg2,d5,c4,c5,e3,Nc6,Nc3,b6,Nf3,Bd6,O-O,Ba6,Nb5,Bxb5,cxb5,Ne7,a4,a5,Qc2,Ne4,dxc5,Rc8,c6,f5,Nd4,Kf7,Bd2,Ng6,Bc3,Ne5,f4,Nc4,Rae1,h5,b3,Nxc3,bxc4,Bb4,Ra1,h4,Ne2,Ne4,Bxe4,fxe4,Nd4,hxg3,hxg3,Rh3,Qg2,Qh8,Kf2', 'Rh2,Rh1,Rxg2+', 'https://lichess.org/training/vBsBo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vbsig', 'Rapid', 'MugiwarAlex', 1944, 'cloveistaken', 1848, 'Nf3,Nf6,g3,g6,Bg2,Bg7,c4,c5,Nc3,O-O,O-O,d6,Rb1,Nbd7,a3,Nb6,d3,Nfd7,Qc2,Nb8,b4,Nc6,Be3,Nd4,Nxd4', 'cxd4,Bxd4,Bxd4', 'https://lichess.org/training/Vbsig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VbSVo', 'Classical', 'marvel999', 1716, 'Nezhmet', 1735, 'e4,c5,Bc4,e6,Nf3,Nc6,O-O,a6,d3,Nf6,Bf4,d6,Nc3,b5,Bd5,exd5,exd5,Nb4,Qe1+,Be7,Rd1,O-O,a4,Bd7,axb5,axb5,d4,Nxc2,Qe2,Nxd4,Qd3,Nxf3+,gxf3,b4,Ne2,Bb5,Qxb5,Nxd5,Rxd5,Ra2,Rb1,Qc7,Qc4,Qc6,Nc1,Raa8,Rd1,Qxf3,Rd2,Qg4+,Kf1,g5,Ne2,gxf4,Nxf4,Rad8,h3,Qf3,Rd3,Qh1+,Ke2,Qxb1,Rg3+,Qg6', 'Nxg6,hxg6,Rxg6+', 'https://lichess.org/training/VbSVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VbTCa', 'Rapid', 'ElOsco', 1879, 'Sarah-Sh', 1920, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,d6,Nc3,Nf6,Bc4,Be7,Nf3,O-O,O-O,Bg4,Ng5,h6,Nh3,Ne5,Bb3,c5,f4,Nc6,Nf2,Bd7,Rd1,Ng4,Qg3', 'Bh4,Nxg4,Bxg3', 'https://lichess.org/training/VbTCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBtdk', 'Rapid', 'manara', 1759, 'Matein100', 1700, 'd4,e6,e3,d5,Nf3,c5,c3,Nc6,Bd3,c4,Bc2,h6,O-O,Nf6,Nbd2,Bd6,Re1,O-O,e4,dxe4,Nxe4,Nxe4,Rxe4,Qe7,Rh4,Qf6,Bd2,b5,Qc1,Bb7,Bxh6,gxh6,Rxh6,Qf4,Ng5,Qxc1+,Rxc1,Ne7,Rh4,Kg7,Re1,Rh8,Rg4,Kf8,h3,Bd5,Be4,Bxe4,Rexe4,f5,Nxe6+,Kf7,Rg7+,Kf6,Re2,Rag8,Rxg8,Rxg8,g3,Nd5,h4,Nc7,Nxc7,Bxc7,Kg2,f4,d5,fxg3,fxg3,Rxg3+,Kf2,Rh3,Kg2,Rxh4,Re6+,Kf7,Rc6,Bb6,d6,Rh6,Kf3,Ke8', 'd7+,Kxd7,Rxh6', 'https://lichess.org/training/VBtdk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VbUG5', 'Rapid', 'kris3ds', 1878, 'allech', 1907, 'e4,e5,Nf3,Nc6,Bc4,Qf6,d4,exd4,O-O,Bc5,e5,Qg6,Bd3,Qe6,Ng5,Qe7,Re1,b6,Nd2,Bb7,Nde4,O-O-O,Nxc5,bxc5,c3,h6,Nf3,g5,cxd4,cxd4,Qe2,g4,Nd2,h5,Nc4,Qh4,Nd2,f6,Ba6,fxe5,Bxb7+,Kxb7,Qe4,Nf6,Qc2,Rhf8,g3,Qh3,Nc4,h4,Nxe5,Nxe5,Rxe5,hxg3,fxg3,Kc8,Rc5,Nd5,Bd2,Rh8,Ba5,Ne3', 'Rxc7+,Kb8,Qb3+,Ka8,Qb7#', 'https://lichess.org/training/VbUG5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vBVdE', 'Rapid', 'kumakuma1', 1955, 'EzequielCalierno', 1921, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Be2,cxd4,Nxd4,Nge7,O-O,Nxe5,f4,N5c6,Kh1,Nxd4,cxd4,Nf5,Nc3,Qxd4,Bb5+,Kd8,Qb3,Ne3,Bxe3,Qxe3,Rae1,Qb6,Nxd5,exd5,Qxd5+,Bd6,Rd1,Ke7,Rfe1+,Be6,Qg5+,Kf8,f5,Qxb5,Rxd6,Qxf5', 'Rd8+,Rxd8,Qxd8#', 'https://lichess.org/training/vBVdE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vbvJA', 'Rapid', 'Pince', 1614, 'wiggen33', 1694, 'e4,c5,Nf3,d6,c3,Nf6,Qc2,Nc6,Bb5,Bd7,d4,cxd4,cxd4,Qb6,d5,Qxb5,dxc6,Bxc6,Nc3,Qa5,O-O,g6,Bd2,Qb6,e5,dxe5,Nxe5,Bg7,Nxc6,Qxc6,h4,Ne4', 'Qxe4,Qxe4,Nxe4', 'https://lichess.org/training/vbvJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBvve', 'Blitz', 'krimiamine', 1506, 'otmshank', 1541, 'e4,e5,Nf3,Nc6,Bc4,Be7,d3,Nf6,O-O,d6,h3,Be6,Nc3,Bxc4,dxc4,Qd7,Bg5,h6,Bxf6,gxf6,Nd5,O-O-O,a4,Rhg8,a5,Qxh3,g3,a6,Nd2,Rxg3+,fxg3,Qxg3+,Kh1,Rg8,Qf3', 'Qh4+,Qh3+,Qxh3#', 'https://lichess.org/training/VBvve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VBxol', 'Rapid', 'Alex1955', 1869, 'Den19987', 1744, 'e4,e5,Bc4,Bc5,a4,a6,h3,d6,c3,Nc6,Nf3,Nf6,d3,h6,O-O,Qe7,b4,Ba7,Bb2,O-O,b5,axb5,axb5,Nd8,Qb3,Be6,Nbd2,Bxc4,Nxc4,Ne6,b6,cxb6,Nxb6,Bxb6,Qxb6,Nf4,d4,exd4,cxd4,Qxe4,Rfe1,Qg6,Nh4,Qc2,Rec1,Rxa1,Rxa1,Ne6,Nf3,Ne4,d5,N6c5,Bd4,Nb3,Ra7,Nxd4,Qxd4,Nc5,Nh4,Qb1+,Kh2,b5,g4,b4', 'Nf5,Qxf5,gxf5', 'https://lichess.org/training/VBxol');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VbXP0', 'Rapid', 'omch', 1840, 'Sambhaji_jadhav', 1793, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Bxf7+,Ke7,Bb3,Rf8,O-O,d6,Nc3,Nd4,d3,Nxb3,axb3,h6,Nf3,Bg4,Na4,Kf7,Nxc5,dxc5,h3,Bxf3,Qxf3,Kg8,Qg3,Kh8,Qxe5,Qd4,Qxc7,b6,Qg3,a5,Qe3,Kh7,Qxd4,cxd4,c3,Rfd8,Bf4,dxc3,Bc7,Rxd3,bxc3,Rxc3,Bxb6,Nxe4,b4,a4,Rfe1,Rc4,Reb1,Nd2,Rb2,Nb3,Ra3,Rxb4,Be3,Re4', 'Rbxb3,axb3,Rxa8', 'https://lichess.org/training/VbXP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vbZrY', 'Blitz', 'pinpo', 2284, 'FM tactinhos2900', 2586, 'e4,e5,Nf3,Nc6,Bb5,g6,O-O,Bg7,Nc3,Nge7,d3,d6,h3,h6,Be3,O-O,Qd2,Kh7,d4,a6,Be2,f5,dxe5,Nxe5,Nxe5,Bxe5,f4,Bg7,Bd3,fxe4,Bxe4,c6,Rad1,d5,Qf2,Bf5,Bb6,Qe8,Bd3,Qf7,Rde1,Rfe8,Qf3,Bxd3,Qxd3,Nf5,g4,Nd6,f5,gxf5,gxf5,Rxe1,Rxe1,Qxf5,Re7,Qg6+', 'Qxg6+,Kxg6,Re6+,Kf7,Rxd6', 'https://lichess.org/training/vbZrY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vc0gx', 'Classical', 'm57gh', 1760, 'mrblackpawn', 1750, 'd4,d5,c4,a6,cxd5,Qxd5,Nc3,Qd8,e4,h6,Nf3,Bg4,Bf4,e6,Qb3,Bxf3,Qxb7,Nd7,gxf3,Rb8,Qxc7,Qxc7,Bxc7,Rxb2,Rc1,Bb4,Rg1,g6,a4,a5,Bd3,Ngf6,Bf4,Ke7,Bb5,Rc8,Bxh6,Rxc3,Kd1,Rxc1+,Bxc1,Rxf2,Bg5,Kf8,e5,Ra2,exf6,Ra1+,Bc1,Nxf6,Kc2,Ba3', 'Bh6+,Kg8,Rxa1', 'https://lichess.org/training/vc0gx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vc1JP', 'Blitz', 'TrivellaBull', 1995, 'fleshbite', 2010, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bg5,Qa5+,c3,e6,Bd3,Bxd3,Qxd3,c5,Nf3,cxd4,Nxd4,Ne7,Nd2,Nec6,N2b3,Qb6,O-O,Nxe5,Qg3,Nbc6,f4,Ng4,f5,Nxd4,cxd4,Bd6,Qe1,O-O,fxe6,fxe6,Qxe6+,Kh8,Qxd5,Bg3,Be7,Rxf1+,Rxf1,g6,Bc5,Qc7,Rf7,Bf2+,Rxf2,Qh2+,Kf1,Qh1+,Ke2,Nxf2,Kxf2,Qxh4+,Kg1,Re8,Bb4,Re2,Qf3,Qe4,Qf8+,Kh7,Qf7+,Kh6,Bf8+,Kg5,Nd2,Qe3+,Kh1,Re1+,Kh2,Qg1+,Kg3,Re3+,Nf3+,Rxf3+,Qxf3', 'h4+,Kh3,Qh1#', 'https://lichess.org/training/vc1JP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vc1xI', 'Rapid', 'HerrDiemer', 2253, 'girbidas6402', 1850, 'd4,Nf6,Nc3,e6,e4,d5,Bg5,h6,Bxf6,gxf6,Nf3,dxe4,Nxe4,f5,Ng3,Nc6,c3,Bd6,Bb5,f4,Ne4,Bd7,Nxd6+,cxd6,Qd2,Qb6,Ba4,O-O-O,Bb3,Kb8,O-O-O,Na5,Bc2', 'Nc4,Bb3,Nxd2', 'https://lichess.org/training/Vc1xI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vc280', 'Rapid', 'tycyura', 1751, 'Mohr', 1746, 'e4,e5,f4,d6,Nf3,Bg4,Bc4,Nf6,Nc3,h6,O-O,Be7,d4,exf4,Bxf4,O-O,Qd3,Bxf3,Qxf3,Nh7,e5,Bg5,Qxb7,Nd7,Qe4,Bxf4,Rxf4,dxe5,dxe5,Ng5,Qf5,Qe7,Raf1,Nxe5,Nd5,Qe8,Nf6+,gxf6,Qxf6,Nxc4,Qxh6,Nh7', 'Rg4+,Kh8,Qg7#', 'https://lichess.org/training/Vc280');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vC2N0', 'Classical', 'skiran25', 1626, 'devcapamerica1945', 1644, 'c3,e5,e4,Nf6,Qb3,Nc6,Bc4,Qe7,Nf3,h6,O-O,Nxe4,Re1,Nc5,Qc2,d6,d4,Ne6,dxe5,dxe5,Nxe5,Nxe5,Rxe5,Bd7,Qb3,O-O-O,Na3,Qf6,Re1,Bxa3,Qxa3,Kb8,Be3,b6,Bd5,Bc8,g3,Rxd5,Bd4,Nxd4,cxd4,Rxd4,Qe3,Rdd8,a4,Qc6,Rac1,Qxa4,Qf4,Be6,Qxc7+,Ka8,Ra1,Qd7', 'Rxa7#', 'https://lichess.org/training/vC2N0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vC5XZ', 'Blitz', 'rabeeh', 1972, 'chnntact', 2057, 'e4,d6,d3,Nf6,c3,g6,Nf3,Bg7,Be2,c5,O-O,Nc6,Re1,O-O,Bf1,e5,a3,b5,Bg5,h6,Be3,Ng4,Bd2,a5,Qc1,Kh7,h3,Nf6,Be3,Rb8,Nbd2,Be6,d4,cxd4,cxd4,exd4,Nxd4,Nxd4,Bxd4,Qd7,Nf3,Rfc8,Qd2,a4,Rac1,Rxc1,Rxc1,Nxe4,Qe3,Nf6,g4,Nd5,Qd2,Bxg4,Bxg7,Kxg7,hxg4,Qxg4+,Bg2,Nf4,Ne1,Re8,Qc3+,Kh7,Qc6,Nh3+,Kf1', 'Qe2#', 'https://lichess.org/training/vC5XZ');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 35;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet36 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vc73E', 'Rapid', 'pradeep1104', 1847, 'NEVER_GIVEUP_JAY', 1977, 'c4,c6,d4,d5,cxd5,cxd5,Nf3,Nf6,g3,Bg4,Bg2,e6,O-O,Be7,Ne5,Bf5,Qa4+,Nbd7,Nc3,O-O,Bg5,Nxe5,dxe5,Nd7,Bxe7,Qxe7,e4,dxe4,Nxe4,Nxe5,Rad1,a6,Qb3,Rad8,Rxd8,Rxd8,Nc3,b5,a4,b4,Ne4,a5,Rc1,Nd3,Rc6,Ne1,Nc5,Nxg2,Kxg2,h6,Qc4,Qe8,Nb7,Rd5', 'Rc8,Qxc8,Qxc8+', 'https://lichess.org/training/Vc73E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vC8rr', 'Classical', 'TXmate39', 1639, 'ssyx', 1766, 'e4,b6,Nf3,Bb7,d4,e6,Bd3,Nf6,Nbd2,c5,c3,cxd4,Nxd4,Nc6,Nxc6,dxc6,Qf3,c5,O-O,a6,a3,Bd6,Nc4,Qc7,g3,h6,Nxd6+,Qxd6,Rd1,Rd8,b4', 'Bxe4,Bxe4,Qxd1+', 'https://lichess.org/training/vC8rr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VCBhX', 'Classical', 'Iggwilv', 2055, 'Wilsonia', 2163, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,Be2,d5,d4,Bd6,Bg5,O-O,O-O,Nbd7,Nc3,c6,a3,Re8,b4,h6,Bh4,Nf8,b5,Ng6,Bg3,Nf4,Bxf4,Bxf4,bxc6,bxc6,Nd2,Qa5,Ncb1,Bf5,Nb3,Qc7,g3,Bd6,c4,dxc4,Bxc4,Bh3,Re1,Rxe1+,Qxe1,Re8,Qc1,Qe7,N1d2,Nd5,Bf1,Bxf1,Qxf1,Bxa3,Nc4,Bb4,Ne5,Nc3,Qc4,c5,Nxc5,Bxc5,Qxc3,Bb6,Qc4,Qf6,Qc6,Re6,Qa8+,Kh7,Qe4+,g6,f4,Qd8,Rd1,Qe8,Qb7,Re7,Qc6', 'Rxe5,Qxe8,Rxe8', 'https://lichess.org/training/VCBhX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VCD0S', 'Classical', 'Alexey_Lisovskii', 2022, 'salva93', 1941, 'd4,Nf6,c4,e6,Nf3,d5,Bg5,Nbd7,Nc3,c6,e3,Bd6,Be2,O-O,O-O,Qc7,c5,Be7,Bf4,Qd8,Ne5,Re8,f3,Nxe5,Bxe5,Nd7,Bg3,e5,dxe5,Bxc5,f4,Bxe3+,Bf2,Bxf4,Bd4,Bxe5,Bh5,Bxd4+,Qxd4,Nf6,Qf4,Be6,Bf3,Qd7,Na4,b6,Rad1,Rad8,b3,Bg4,Nc3,Bxf3,Rxf3,Qd6,Qd4,Qc5,Qxc5,bxc5,Na4,Ne4,Rc1,Re6,Nxc5,Nxc5,Rxc5,Kf8,Rfc3,Rc8,Rxd5,Ke7,Rd2,c5,b4,Rec6,b5,Rd6,Re2+,Re6,Rec2,Re5,Kf2,Kd6,Kf3,f6,Rd3+,Rd5,Ra3,Rc7,Ra6+,Ke5,Re2+,Kd4,Re4+,Kc3,Re3+,Kb4', 'Rb3+,Kc4,Ra4#', 'https://lichess.org/training/VCD0S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VCd0y', 'Rapid', 'SireFatos', 1832, 'coolsidd', 1788, 'e4,c5,Nf3,Nc6,c3,e6,d4,Nge7,Nbd2,Ng6,Nb3,b6,dxc5,bxc5,Be3,Qb6,Bc4,Na5,Be2,Nxb3,axb3,Bb7,Qc2,Qc6,Bd3,Be7,O-O,O-O,Rfc1,Bf6,Ra5,d6,Rca1,a6,Nd2,Ne5,f3,Nxd3,Qxd3,Bd8,R5a3,Bc7,Nc4,Rfd8,Bf4,d5,Bxc7,dxc4,Qxc4,Qxc7,b4,Rdc8,Ra5,cxb4,Qxb4,h6,Rd1,Rab8,Qa4,Qc4', 'Rd8+,Rxd8,Qxc4,Rd1+,Kf2', 'https://lichess.org/training/VCd0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vcE5i', 'Blitz', 'avc1964', 2318, 'NM TheRigaMagician', 2400, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,Bg4,Qb3,Qd7,Nd2,e6,Ngf3,Bd6,Bxd6,Qxd6,O-O,O-O,Rfe1,Qc7,Ne5,Nxe5,dxe5,Nd7,Qa4,Bh5,Qh4,Bg6,Bxg6,fxg6,Nf3,Rxf3,gxf3,Rf8,f4,Nc5,Rad1,a5,Rd4,b5,Qg4,Rf5,Qe2,Qc6,b4,axb4,Rxb4,Ne4,Qxb5,Qxb5,Rxb5,Rxf4,Rb8+,Kf7,Rb7+,Kg8,Reb1,h5,Re7', 'Rg4+,Kf1,Nd2+,Ke2,Nxb1', 'https://lichess.org/training/vcE5i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VCeA7', 'Rapid', 'L_Lawliet_95', 1821, 'varujan1', 1841, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,h6,Nc3,a6,a3,d6,h3,O-O,b4,Bb6,Nd5,Be6,Nxb6,cxb6,Bxe6,fxe6,Nh4,Kh7,f4,Nxe4,Qh5,Ng3', 'Qg6+,Kg8,Qxg3', 'https://lichess.org/training/VCeA7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vcf4e', 'Rapid', 'hraac', 2297, 'spluk', 2002, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,f5,fxe5,fxe4,d4,exf3,Qxf3,Qe7,O-O,Nxd4,Bf7+,Kd8,Qd1,Nf5,exd6,cxd6,Bxg8,Rxg8,Nc3,Ne3,Bxe3,Qxe3+,Kh1,Bd7,Qd5,Rh8,Qxb7,Rc8,Nd5,Qc5,Rf7,Bc6', 'Rxf8+,Rxf8,Qe7#', 'https://lichess.org/training/vcf4e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vCFKp', 'Rapid', 'Bombist', 2183, 'amgh20', 2008, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,Nf6,Bg5,Be7,O-O-O,h6,Bh4,Qd7,h3,b6,Rhe1,O-O,e5,Ne8,Bg3,Rd8,Ne4,Bxe4,Qxe4,Qb5,Nd4,Qc4,Nc6,Qxa2,Nxe7+,Kh8,e6,Qa1+,Kd2,Qxb2,Ng6+,fxg6,e7,Nf6,exd8=Q', 'Nxe4+,Rxe4,Rxd8', 'https://lichess.org/training/vCFKp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VcG5M', 'Classical', 'saadart', 1688, 'bahma', 1672, 'e4,Nc6,d4,d5,e5,e6,Nf3,Bd7,c3,f6,Bd3,fxe5,dxe5,Bc5,O-O,Nh6,Ng5,Nf5,Bxf5,exf5,e6,Bc8,Nf7,Qf6,Nxh8,Bxe6,Qh5+,g6,Qe2,O-O-O,Na3,Rxh8,b4,Bd6,Bb2,Qh4,g3,Qe7,Nb5,Kb8,Rfe1,Re8,a4,a6,Nxd6,Qxd6,a5,d4,cxd4,Nxd4,Bxd4,Qxd4,Red1,Qxb4,Rdb1,Qc4,Qxc4,Bxc4,Re1,Rxe1+,Rxe1,c5,Re7,h5,Rg7,b5,Rxg6', 'b4,Rc6,b3,Rxc5,b2,Rxc4,b1=Q+', 'https://lichess.org/training/VcG5M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vChbS', 'Rapid', 'Ladiagonale', 1878, 'Sergey72', 1714, 'd4,Nc6,c4,e5,d5,Nd4,e3,Nf5,Bd3,d6,Nc3,Nh4,Be4,Qg5,g3,Ng6,Nf3,Qf6,Nb5,Qd8,c5,Nf6,Bxg6,hxg6,cxd6,cxd6,Bd2,Nxd5,Rc1,Bd7,e4,Nf6', 'Nc7+,Qxc7,Rxc7', 'https://lichess.org/training/vChbS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VcHZc', 'Classical', 'MihoSevastopol', 1954, 'bhorvat', 2000, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,b6,Nf3,Bb7,d5,O-O,Bd3,Na6,a3,c6,Be3,cxd5,cxd5,Nc5,O-O,a5,Re1,Re8,Rb1,e6,Bb5,Nfd7,Na4,Re7,b4,axb4,axb4,Nxa4,Bxa4,exd5,exd5,Nf6,Bc6,Ne4,Qc2,Nc3,Rbc1,Nxd5,Bxb7,Nxe3,Rxe3,Rxb7,Qc6,Rba7,Ree1,Ra4,b5,Bb2,Rcd1,Ba3,Re2,Bc5,Rde1,Kg7', 'Re8,Qxe8,Rxe8,Rxe8,Qxe8,Ra1+,Kh2', 'https://lichess.org/training/VcHZc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vcj9q', 'Rapid', 'Miroslave', 1654, 'DanieleAngeli', 1728, 'e4,g6,d4,Bg7,Nf3,b6,c3,Bb7,Bd3,e6,Be3,Ne7,Qd2,h6,g4,d6,h4,Nd7,h5,g5,Na3,c5,Ke2,Qc7,Rag1,O-O-O,e5,Kb8,exd6,Qxd6,Nxg5,Bxh1,Bf4,e5,dxe5,Bxe5,Bxe5,Qxe5+,Kd1,hxg5,Rxh1,Nf6,Kc2,Ne4,Qe2,Qf4,Bxe4,Rhe8,Qf3,Nf5', 'Qxf4+,gxf4,Bxf5', 'https://lichess.org/training/Vcj9q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vCJRG', 'Blitz', 'agneyjadav', 1609, 'Dvdlr', 1662, 'f4,e6,Nf3,d5,e3,Nf6,Be2,c5,O-O,Nc6,b3,Bd7,Bb2,g6,Qe1,Bg7,g4,Ne4,Bxg7,Rg8,Bb2,d4,exd4,cxd4,Nxd4,Nxd4,Bxd4,Bc6,Bb2,Qd5,d3,Ng3,Bf3,Qc5+,Kg2,Nxf1,Bxc6+,bxc6,Qxf1,Qxc2+,Qf2,Qxd3,Na3,Qd5+,Kg1,Ke7,Rc1,Rgd8,Qc5+', 'Qxc5+,Rxc5,Rd1+,Kg2,Rd2+', 'https://lichess.org/training/vCJRG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VCjSI', 'Rapid', 'chessideasadmin', 1745, 'leftturn1951', 1650, 'd4,d5,Nc3,e6,Bf4,a6,e3,c5,dxc5,Bxc5,Nf3,h6,Bd3,Nc6,Ne5,Nf6,Qf3,d4,Nxc6,bxc6,Ne4,Bb4+,c3,dxc3,Nxf6+,gxf6,Qxc6+', 'Bd7,Qe4,cxb2+', 'https://lichess.org/training/VCjSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vcks0', 'Classical', 'FILIPN05', 1835, 'ZLaKii2', 1855, 'd4,d5,Nc3,Nf6,Bf4,e6,e3,Bb4,Bd3,c5,dxc5,Bxc5,Nf3,O-O,O-O,Nc6,e4,Re8,e5,Nd7,Bxh7+', 'Kxh7,Ng5+,Kg8', 'https://lichess.org/training/Vcks0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vCNCE', 'Rapid', 'Makc12', 1778, 'SWL81', 1773, 'e4,c6,Nf3,a6,Nc3,d5,exd5,cxd5,d4,Bg4,Be2,Bxf3,Bxf3,e6,O-O,Bd6,Re1,Ne7,Bg5,h6,Bh4,g5,Bg3,Bxg3,hxg3,Qd6,Qe2,Nbc6,Rad1,O-O-O,a3,Nf5,Qd3,h5,Na4,g4,Be2,Qc7,Nc5,h4,Bxg4,Nfxd4,c3,Nb5,Rxe6,fxe6,Nxe6,Qe7,gxh4,Ne5,Nxd8+,Nxg4,Qf5+,Qd7,Ne6,Nxf2,Rxd5,Nh3+,Qxh3', 'Qxd5,Nf4+,Qd7,Qxd7+,Kxd7', 'https://lichess.org/training/vCNCE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VcnOx', 'Classical', 'OTREBLA26', 2111, 'Karda7', 2056, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,c6,Bg5,Bg4,h3,Bxf3,Qxf3,Nbd7,Rad1,e5,Ne2,h6,Be3,b5,Bb3,Qc7,c3,Rae8,Ng3,a5,a3,c5,dxc5,dxc5,Qe2,c4,Bc2,a4,Qd2,Kh7,f3,Rd8,Qf2,Rfe8,Rd2,Nf8,Rfd1,Ne6,Nf1,Bf8,Bb6,Qc8,Rxd8,Rxd8,Bxd8,Nxd8,Kh1,Ne6,Qa7,Kg7,Ne3', 'Bc5,Qa5,Bxe3', 'https://lichess.org/training/VcnOx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VcNXN', 'Rapid', 'senseij', 2010, 'atlianto', 1992, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,e6,Bd3,Bg6,c3,Nc6,Na3,Bd6,Ne5,a6,Nxc6,bxc6,Bxg6,hxg6,Bg5,Bxa3,bxa3,Rh5,f4,Qd6,Bxf6,gxf6,Qa4,Ke7,Rb1,e5,O-O,Rah8,h3,g5,Rb7,gxf4,exf4,exf4,Re1+,Kd7,Qxa6,f3,Qd3,fxg2,Qf3,Rg5,a4,Re8,Rxe8', 'Qh2+,Kxh2,g1=Q#', 'https://lichess.org/training/VcNXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vcoek', 'Rapid', 'Hady_5oMolov', 2118, 'megaflower', 1986, 'e4,d6,d4,Nf6,Bd3,e5,Nf3,exd4,Nxd4,Be7,c4,O-O,Nc3,c6,O-O,Re8,Bg5,h6,Bh4,Nh7,Bxe7,Qxe7,Qc2,Ng5,f4,Ne6,Nf5,Qd8,Rae1,Nc5,e5,dxe5,Rd1,Nxd3,Nxh6+,gxh6,Rxd3,Qb6+,Kh1,Bf5', 'Rg3+,Kf8,Qxf5', 'https://lichess.org/training/Vcoek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vcOgX', 'Rapid', 'kayokinn', 2055, 'arinaboaug', 1980, 'd3,b6,Bf4,e6,e4,Bb7,Nc3,d5,exd5,Bxd5,Nxd5,Qxd5,Bxc7,Nc6,Qf3,Qxf3,Nxf3,Nf6,c3,Be7,O-O-O,O-O,d4,Ng4,Re1,Nxf2,Rg1,Ng4,Ne5,Ncxe5,dxe5,Nxh2,Bd6,Bg5+,Kc2,Nxf1,Bxf8,Ne3+,Kd3,Rxf8,Rxe3,Rd8+,Ke4,f5+,Kf3,Bxe3,Kxe3,Rd5,Kf4,Rd2,g4,Rxb2,gxf5,exf5,Kxf5,Rxa2,Rd1,g6+,Kf6,Rf2+,Ke6,Rf7', 'Rd8+,Kg7,Rd7,Rxd7,Kxd7', 'https://lichess.org/training/vcOgX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VcoX6', 'Blitz', 'FM JustoTriana', 2322, 'Fairy_ChessPlayer', 2202, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,c3,d6,h3,a6,Ba4,b5,Bb3,Bb6,Nbd2,O-O,Nf1,d5,Qe2,h6,Ng3,d4,O-O,dxc3,bxc3,b4,Bb2,bxc3,Bxc3,Nd4,Bxd4,Bxd4,Rac1,c5,Nh2,g6,Kh1,h5,Qf3,Kg7,Ne2,Qe7,Nxd4,cxd4,Qg3,Qd6,Nf3,Re8,Ng5,Re6,f4,exf4,Rxf4,Re7,Rcf1,Raa7,Qh4,Ng8,Nxf7,Qc5,Ng5,Nh6,Qf2,a5,Nf3,Ba6,Qxd4+,Qxd4,Nxd4,Bxd3,R1f2,Rxe4,Rxe4,Bxe4,Ne6+,Kh7', 'Ng5+,Kg7,Nxe4', 'https://lichess.org/training/VcoX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vCoYn', 'Blitz', 'tnan321', 1675, 'Leo-Lorena', 1741, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,Nxc6,Nf3,e5,Bb5,Bd6,O-O,O-O,d3,Re8,Bg5,Bg4,h3,Bh5,Bxc6,bxc6,Ne4,Be7,Qe2,Nxe4,Qxe4,Bxg5,Qxc6,Rc8,Qe4,Bg6,Qg4,Bf6,c3,Qxd3,Rad1,Qc2,Rfe1,Qxb2,Nxe5,Bxe5,Rxe5,Qxc3,Rxe8+,Rxe8,Qd7,Re1+,Kh2,Qe5+,g3,Rxd1', 'Qc8+,Rd8,Qxd8+,Qe8,Qxe8#', 'https://lichess.org/training/vCoYn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VCQM1', 'Rapid', 'iotaylan', 1677, 'Paul3254', 1606, 'd4,d5,c4,Nf6,Nc3,e6,a3,Nc6,e3,e5,dxe5,Nxe5,Nxd5,Nxd5,Qxd5,Qxd5,cxd5,Bf5,Bb5+,c6,dxc6,bxc6,Ba4,Bc5,f4,Nd3+,Kd2,O-O,Bxc6,Rad8,Kc3,Nf2,Nh3,Rd3+,Kc4,Be6+,Kxc5,Nxh1,b4,Rc8,b5,Rc3+,Kb4,a5+,Kxa5,Rc4,a4,Bxh3,gxh3,Nf2,Bb2,Ne4,Kb6,Nc5,a5,Ne6,a6,Nd8,a7,Nxc6,bxc6,R4xc6+,Kb5,Rc5+,Kb4,Rc4+,Kb3,R4c6,a8=Q', 'Rb6+,Ka2,Rxa8+', 'https://lichess.org/training/VCQM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VCqvC', 'Rapid', 'oniav', 1881, 'Timofeydas', 1905, 'e4,c5,Nf3,d6,c3,Nf6,e5,dxe5,Nxe5,e6,d4,cxd4,cxd4,Bd6,Bf4,Bxe5,Bxe5,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,O-O,Nc3,Nd5,Nxd5,Bxd5,Qg4,f6,Bg3,Qb6,b3,Rad8,Rad1,Qb4,Qe2,Rfe8,Qd2,Qxd2,Rxd2,Kf7,Rc1,Rc8,Rdc2,Rc6,Rxc6,Bxc6,Bf4,Rd8,Be3,a6,a3,Ke7,b4,Rd5,h3,Kd7,f4,a5,bxa5,Rxa5,Rc3,Kd6,Kh2,Kd5,Bd2,Kxd4', 'Rxc6,bxc6,Bxa5', 'https://lichess.org/training/VCqvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vCRgY', 'Rapid', 'androidmarvin', 1793, 'kadimdost7', 1935, 'e4,c5,Nf3,Nc6,c3,g6,d4,cxd4,cxd4,d5,exd5,Qxd5,Nc3,Qa5,Bb5,a6,Bxc6+,bxc6,O-O,Bg7,Qa4,Qxa4,Nxa4,Rb8,Rb1,Be6,a3,Nf6,Nc5,Bd5,Nxa6,Rb6,Nc7+,Kd7,Nxd5,Nxd5,Be3,Nxe3,fxe3,Rb3,Nd2,Rxe3,Nc4,Rb3,Rxf7,Bxd4+,Kf1,Ke6,Rf4,c5,Na5,Rxb2,Re4+,Kd5', 'Rxd4+,Kxd4,Rxb2', 'https://lichess.org/training/vCRgY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VcRx1', 'Rapid', 'teacher42', 1747, 'Vipu', 1822, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d5,exd5,Nxd5,O-O,O-O,Re1,Na5', 'Bxd5,Qxd5,Re5,Qd8,Rxa5', 'https://lichess.org/training/VcRx1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vCSFT', 'Classical', 'Sergei_Vladimirovich', 1910, 'valeriy-54', 1959, 'e4,e5,Nf3,Nc6,Bc4,Bc5,a3,a5,d3,Nf6,Be3,Bxe3,fxe3,d6,h3,O-O,O-O,Ne7,Nbd2,c6,Nh2,Qb6,Rf3,Qxb2,a4,Qb4,Bb3,Ng6,Rb1,Qc5,Qe1,b5,Rg3,Nh5,Rg5,Nf6,d4,Qc3,Qf2,Be6,Ng4,Nxg4,hxg4,Bxb3,cxb3,f6,Rh5,Rab8,axb5,Rxb5,Rf1,h6,Rh3,Ne7,g5,hxg5,Nc4,Rd8,g4,Rxb3,Nxa5,Qxa5,Qh2,Kf7,Rh7,Rg8,Qh5+,Kf8', 'Rxf6+,gxf6,Qf7#', 'https://lichess.org/training/vCSFT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vcSnQ', 'Blitz', 'renanrcds', 1701, 'Knightly_King', 1811, 'd4,f5,Nf3,Nf6,e3,g6,c4,Bg7,Nc3,d6,Bd2,O-O,Be2,Nc6,O-O,e5,dxe5,Nxe5,Nd5,Nxd5,cxd5,Nxf3+,Bxf3,Bxb2,Rb1,Bg7,Qb3,a6,Rfc1,Rf7,Bc3,Bxc3,Qxc3,h5,a4,Kh7,Be2,f4,exf4,Bf5,Rb2,b6,g3,h4,Bd3,Bxd3,Qxd3,hxg3,hxg3,Qf6,Rbc2,Rc8,Kg2,Kg7,Rc6,g5,fxg5,Qxf2+,Kh3,Rh8+,Kg4,Qh2,Qd4+,Kg8,Qxh8+,Kxh8,R6c2,Rf2,Rxf2,Qxf2,Rxc7,Qe2+,Kf5,Qd3+,Kf6,Qxd5,Rc8+,Kh7', 'g6+,Kh6,Rh8#', 'https://lichess.org/training/vcSnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vcSOP', 'Rapid', 'Hector_14', 1874, 'kingzimuto1', 1906, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,g6,Bc4,Bg7,Nf3,Bg4,Bxf7+,Kxf7,Nfg5+,Ke8,Qxg4,Nf6,Ne6', 'Nxg4,Nxd8,Kxd8', 'https://lichess.org/training/vcSOP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VcSU8', 'Rapid', 'matanadebayo', 1855, 'Magnocarlo', 1849, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,h3,O-O,Re1,d6,c3,Bb6,a3,Qe7,d4,exd4,cxd4,Qd8,b4,d5,exd5,Nxd5,Bb2,Kh8,Nbd2,Be6,Nf1,Qf6,Ne5,Nxe5,dxe5,Qd8,Qb3,c6,Rad1,a5,Ne3,Qc7,Nxd5,cxd5,Bxd5,Bxd5,Qxd5,Rad8,Qf3,axb4,axb4,Qe7,Qf5,Qxb4,Ba1,Rd2,Qg5', 'Bxf2+,Kh1,Bxe1', 'https://lichess.org/training/VcSU8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VCtpA', 'Blitz', 'wodossch', 1599, 'MarMar1315', 1574, 'd4,Nf6,c4,e6,e3,c5,d5,a6,Nf3,b5,cxb5,Qa5+,Nc3,axb5,Bxb5,exd5,Be2,Nc6,O-O,Ba6,Bxa6,Qxa6,Nxd5,Nxd5,Qxd5,Be7,Ne5,Nxe5,Qxe5,d6,Qxg7,O-O-O,Qxf7,Bh4,Qf5+,Kc7,Qf7+,Rd7,Qf3,Rg7,Bd2,Rhg8,g3,Qd3,Bc3,Rg6,Rfd1,Qc2,Qf4,Bg5,Qc4,Bxe3,fxe3,Rxg3+,hxg3,Rxg3+,Kf1,Qg2+,Ke1', 'Rxe3+,Qe2,Rxe2#', 'https://lichess.org/training/VCtpA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vcU0V', 'Rapid', 'MedoAttack', 1940, 'jc4545', 2003, 'e4,Nc6,d4,d5,e5,Bf5,Bd3,Nxd4,Bxf5,Nxf5,Nf3,h6,O-O,e6,Nc3,Bc5,Qe2,a6,a3,Nge7,Rb1,O-O,b4,Bd4,Nxd4,Nxd4,Qd3,Ndc6,Qg3,Nf5,Qf4,b5,Bb2,d4,Rbd1,Qe7,Ne4,Rad8,Nc5,Rd5,Rfe1,a5,h3,axb4,axb4,Nxb4,Bxd4,Nxd4,Rxd4,Qxc5,Rxb4,Qxc2,Rc1,Qf5,g3,Qxe5,Qxe5,Rxe5,Rxc7,f5,Rb7,Re4,R4xb5,f4,Kg2,f3+,Kf1,Rd8,Rb8,Rd4,Rxd8+,Rxd8,Re5,Rd6,Ke1,Kf7,Re3,Rb6,Rxf3+,Ke7,Ra3,Rb2,Ra7+,Kf6,h4,g6,Ra8,h5,Ra5,e5,Ra6+,Kf5,Ra8,Ke4,Rg8,Kf3,Rf8+,Kg2,Rf6,Rb1+,Ke2,Rb2+,Ke3,Rb3+,Ke4,Rb2,Kxe5,Re2+,Kf4', 'Rxf2+,Ke5,Rxf6,Kxf6,Kxg3', 'https://lichess.org/training/vcU0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VCuZb', 'Blitz', 'Maazouziches', 1953, 'A-Stahlberg', 2260, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Be2,Nf6,c3,Bf5,O-O,e6,Re1,Bd6,Be3,Qc7,Nbd2,O-O,h3,Ne4,Nxe4,Bxe4,Nd2,Bg6,Bf3,f5,Nf1,Rae8,b4,Nd8,Bd2,b5,a4,a5,axb5,axb4,cxb4,Qb6,Ra6,Qb8,Be2,Kh8,Qb3,Rf7,Rea1,f4,Bf3,Be4,Bxe4,dxe4,d5,e3,fxe3,fxe3,Nxe3,Be5,R1a5,exd5,Qxd5,Ref8,Ra8', 'Bh2+,Kh1,Rf1+,Nxf1,Rxf1#', 'https://lichess.org/training/VCuZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vCVGD', 'Classical', 'ChessRookieLA', 1741, 'IIIaXMaTucT-AyTuCT', 1837, 'd4,d5,c4,e6,e3,c6,Nc3,Nf6,Nf3,Nbd7,Bd2,Be7,h3,O-O,b3,b6,Bd3,Bb7,Qc2,c5,cxd5,Bxd5,Nxd5,exd5,Bc3,Rc8,Qe2,Re8,O-O,Bd6,Rfd1,Bb8,Rac1,Qc7,Ba6,Rcd8,Bb5,Ne4,dxc5,bxc5,Rxd5,a6,Bxd7,Rxd7,Rxd7,Qxd7,Rd1', 'Nxc3,Rxd7,Nxe2+', 'https://lichess.org/training/vCVGD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vCVio', 'Blitz', 'IM sherlock1888', 2552, 'abstractnuclear', 2366, 'd4,d5,c4,dxc4,e4,Nc6,Nf3,Bg4,Bxc4,e6,Be3,Bxf3,gxf3,Qf6,d5,Bb4+,Ke2,Qxb2+,Nd2,Nd4+', 'Bxd4,Qxd4,Qa4+,c6,Qxb4', 'https://lichess.org/training/vCVio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vCvUl', 'Blitz', 'chessbrahsGM', 1680, 'FramiSc', 1660, 'd4,d5,c4,e6,Nf3,Nf6,e3,c5,Nc3,Nc6,Be2,a6,O-O,dxc4,Bxc4,b5,Bb3,cxd4,exd4,Be7,Re1,O-O,Ne4,Bb7,Nxf6+,Bxf6,Bc2,Bxd4,Qd3,g6,Bg5,Bf6,Bxf6,Qxf6,Qd7,Rab8,Be4,Qe7', 'Bxc6,Qxd7,Bxd7,Bxf3,gxf3', 'https://lichess.org/training/vCvUl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VCWuF', 'Blitz', 'chessfan007', 1597, 'idraulico73', 1539, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,c3,g6,d4,cxd4,cxd4,Bg7,Nc3,a6,a3,Nf6,Bf4,O-O,e5,dxe5,dxe5,Qxd1,Raxd1,Ng4,Rfe1,Rad8,h3,Nh6,Nd5,e6,Nc3,Nf5,g4,Nfd4,Nxd4,Rxd4,Bg3,Rxd1,Nxd1,Rd8,Nc3,Rd2,f4,Rxb2,Rd1,Rb3,Rc1,Rxa3,Kg2,f6,Ne4,fxe5,fxe5,Bxe5,Bxe5,Nxe5,Rc8+,Kg7,Nd6,b5,Rc7+,Kh6,Ne4,b4', 'g5+,Kh5,Rxh7#', 'https://lichess.org/training/VCWuF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vcxrq', 'Rapid', 'Rajparikh', 1690, 'Leonlechess', 1710, 'd4,d5,c4,dxc4,Nc3,a6,a4,Nc6,e3,Nf6,Bxc4,Bf5,Nf3,e6,O-O,Bd6,Re1,h6,e4,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd3,c5', 'e5,Bxe5,Rxe5', 'https://lichess.org/training/vcxrq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VcYlS', 'Rapid', 'Troina27', 1653, 'gunjanpandey', 1669, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,Ne2,Bg7,d3,O-O,Bg5,Nb4,Bb3,d5,Nbc3,d4,a3,dxc3,Nxc3,Nc6,Nd5,Nd4,Nxf6+,Bxf6,Qxf6,Qxf6,Bxf6,Nxb3,cxb3,Be6,b4,Bb3,O-O,Bc2,Rac1,Bxd3,Rfd1,Bxe4,Rxc7,Rac8,Rxc8,Rxc8,h3,Rc2,Bxe5,f5,Rd8+,Kf7,Rd7+,Ke6,Rxh7,Kxe5,f3,Bd3,Rxb7,Rxb2,Rxa7,Ra2,Kh2,Bc2,Kg3,Bb3,Ra6,g5,h4,gxh4+,Kxh4,Rxg2,b5,Bc4,a4,Ra2,Ra5,Bb3,b6+,Kd6', 'b7,Kc7,Rb5', 'https://lichess.org/training/VcYlS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vCYQk', 'Rapid', 'Andrej11', 2177, 'ironmanx2216', 2051, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,O-O,e3,Nbd7,Be2,c6,O-O,Re8,Nd2,a6,h3,Nf8,Bf4,Ng6,Bg3,Bd6,Bxd6,Qxd6,a3,e5,Rc1,e4,b4,h6,cxd5,cxd5,Qb3,b6,Rc2,Bd7,Rfc1,b5,Qa2,Reb8,Nb3,Rc8,Nc5,Bc6,Qb2,Nd7,Nb1,Nb6,Nd2,Nc4,Bxc4,bxc4,Nb1,Nh4,Kh1,Qg6,Rg1,Rd8,Nc3,Rd6,Qb1,Rf6,a4,Qh5,b5,axb5,axb5,Rb8,Rb2,Be8,b6,Nf3,Rf1,Nh4,Ne2,Nxg2,Kxg2,Qf3+,Kh2,Rg6,Ng3,Bc6,Qd1,Qf6,Qh5,Rxg3,Kxg3,Ra8,Qg4,Rb8,Rg1,g5,Kh2,Kh7,h4,Rg8,b7,Bxb7,Nxb7,Rg6,h5,Rg7,Nc5,Qd6+,Qg3,Qe7,Rb6,g4,Qd6', 'Qh4+,Kg2,Qh3#', 'https://lichess.org/training/vCYQk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vcYzi', 'Blitz', 'iyahdub', 1672, 'nacho8557', 1853, 'd4,e5,c4,exd4,Qxd4,Nc6,Qd1,Bc5,e3,Nf6,a3,d6,Qc2,a6,b4,Ba7,Bd3,O-O,Nf3,Bg4,Be2,Qe7,Bb2,Rad8,O-O,Rfe8,Bxf6,Qxf6,h3,Bxf3,Bxf3,Qxa1,Nc3,Qxf1+,Kxf1,Ne5,Nd5,Nxf3,gxf3,c6,Nf4,Re5,Nd3,Rh5,Kg2,Re8,Nf4,Rg5+,Kh2,Ree5,Ng2,Rh5,f4,Re6,h4,Rg6,f3,d5,f5,Rgh6,e4,Bb8+,Kh3,g5,fxg6,hxg6,exd5,g5,dxc6', 'Rxh4+,Nxh4,Rxh4+,Kg2,Rh2+', 'https://lichess.org/training/vcYzi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VcZ7L', 'Rapid', 'dina111', 2185, 'medenjak', 2132, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,f3,b5,g4,Bb7,Qd2,Be7,O-O-O,Nc6,g5,Nd7,h4,Qc7,Kb1,Nxd4,Bxd4,b4,Na4,d5,exd5,Bxd5,Bg2,Bc6,f4,O-O,Bxc6,Qxc6,b3,Rfd8,Qf2,Rac8,h5,e5,fxe5,Bxg5,Rhf1,f6,exf6,Bxf6,h6,Ne5,Bxe5,Bxe5,Qf7+,Kh8', 'Rxd8+,Rxd8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/VcZ7L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VcZl9', 'Blitz', 'FM Cellini', 2484, 'L_Lawliet2020', 2323, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,h3,h5,d3,Qf6,Nbd2,g5,Re1,Be6,d4,g4,Nxe5,gxh3,g3,O-O-O,Ndf3,Bh6,Kh2,Bxc1,Qxc1,Nh6,Qf4,Ng4+,Kg1,Qxf4,gxf4,Rhg8,Kf1,Nxe5,dxe5,Bc4+,Re2,Bxe2+,Kxe2,Rg4,Ke3,Rh8,Rh1,Kd7,Rxh3,c5,Nh4,Rg1,Nf5,Re1+,Kd3,b5,b3,Ra1,Ng7,h4,Nf5,Rxa2,Rxh4,Rxh4,Nxh4,a5,f5,a4,bxa4,Ra3+,c3,b4,f4,Rxc3+,Kd2,Ra3,f6,Rxa4,f5,b3,Kc3,Rb4,e6+,fxe6,f7,Ke7,fxe6,b2', 'Ng6+,Kxe6,f8=Q', 'https://lichess.org/training/VcZl9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vczmu', 'Blitz', 'pbrenna', 1551, 'Andrey_Prober', 1587, 'e4,e5,Nf3,Bc5,Be2,Qf6,d3,h6,Nc3,c6,O-O,a6,Be3,Bb4,Na4,Ba5,c3,d6,b4,Bc7,d4,Ne7,c4,O-O,d5,cxd5,cxd5,b5,Nc3,Bg4,a3,Nd7,Rc1,Bb6,Bxb6,Nxb6,a4,Rfc8,a5,Nc4,Nd2,Bxe2,Qxe2,Nxd2,Qxd2,Rc7,Ne2,Rac8,Qe3,Ng6,Rxc7,Rxc7,Rc1,Qe7,Qb6,Ra7,Rc8+,Kh7,Rc6,Nf4,Kf1,Nd3,Rxd6,Nxb4,Ke1,Nd3+,Kf1,Nf4,g3,Nxe2,Kxe2,Rc7,Rc6,Rxc6,dxc6,Qb4,c7,Qxe4+,Kf1,Qb1+,Kg2,Qe4+,f3,Qe2+,Kh3,Qf1+,Kg4,h5+,Kxh5', 'Qh3+,Kg5,f6+,Qxf6,gxf6+', 'https://lichess.org/training/vczmu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vd1gc', 'Blitz', 'EskaAbdiNegoro', 1678, 'ultimate4dzz', 1683, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,O-O,e5,Ne4,O-O,Nxc3,bxc3,Bxc3,Rb1,d6,Ng5,Bxd4,Qh5,h6,Bxf7+,Kh8,Nh7,Kxh7,Qg6+,Kh8,Bxh6,Bxe5', 'Bxg7+,Bxg7,Qh5+,Bh6,Qxh6#', 'https://lichess.org/training/vd1gc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vD1jj', 'Classical', 'Alvin2011', 1615, 'muammeryusag', 1618, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,Bc5,c3,Ng4,Bxg4,Qxg5,Bxc8,Qxg2,Rf1,Qe4+,Qe2,Qxe2+,Kxe2,Rxc8,b4,Bxb4,cxb4,Nc4,Nc3,Rb8,a3,O-O,d3,Nd6,Rg1,Rfe8,Bb2,Nf5,Rg5,Nd4+,Kd1,Rbd8,Ne2,Nf3,Rg2,Rxd3+,Kc2', 'Rd2+,Kb3,Rxe2', 'https://lichess.org/training/vD1jj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vD1vn', 'Blitz', 'jasenatovyseru', 2402, 'CM Davigator', 2368, 'b3,c5,Bb2,Nc6,f4,d5,Nf3,Bg4,e3,a6,Be2,Bxf3,Bxf3,Nf6,O-O,Rc8,Qe2,e6,d3,Be7,Nd2,O-O,a3,b5,c3,Qb6,c4,bxc4,dxc4,Na5,Rab1,Rfd8,e4,d4,Qd3,Nc6,e5,Ne8,Rbe1,g6,Bc1,Ng7,g4,Rb8,Re2,Na5,Rg2,Nxb3,f5,Bg5,f6,Ne8', 'Nxb3,Be3+,Bxe3', 'https://lichess.org/training/vD1vn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VD3wD', 'Blitz', 'Anderuzo', 2048, 'Barxeta', 2001, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Nc6,Nf3,Bg4,Bc4,e6,O-O,Nb6,Bb3,Nxd4', 'Qxd4,Bxf3,Qxd8+,Rxd8,gxf3', 'https://lichess.org/training/VD3wD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VD54Q', 'Blitz', 'bigdrakkar', 2317, 'NM foreignaffairs', 2281, 'd4,Nf6,c4,c5,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,Nc6,Nc3,d6,b3,cxd4,Nxd4,Bd7,Bb2,Nxd4,Qxd4,Bc6,Nd5,Nh5,Qd2,Bxb2,Qxb2,e6,Nf4,Bxg2,Nxh5,gxh5,Kxg2,Qg5,Qd4,Rfd8,e3,d5,Rad1,b6,h4,Qg4,f3,Qxd4,Rxd4,dxc4,Rxc4,Rd2+,Rf2,Rad8,Rc2,R2d3,e4,R8d7,Rfe2,Kg7,Kf2,Kf6,Re3,Rd2+,Rxd2,Rxd2+,Re2,Rd1,f4,e5,Rc2,Rh1,Kf3,exf4,gxf4,Rxh4,Rc7,a5,Rc6+,Kg7,Rxb6,Rh2,a4,h4,Kg4,f6,Rb5,Kg6,Rxa5,h5+,Kf3,Rh3+,Kg2,Rxb3,Rb5,Ra3,a5,Ra4,e5,Rxf4,exf6,Rxf6', 'Rb6,Kg7,Rxf6', 'https://lichess.org/training/VD54Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vD5JZ', 'Rapid', 'namdar11', 1793, 'debil20006', 1805, 'd4,e6,e4,d5,exd5,exd5,Nc3,Nc6,Bb5,Nf6,Bg5,Bb4,Qe2+,Qe7,Qxe7+,Kxe7,O-O-O,Bxc3,bxc3,Bg4,f3,Bh5,g4,Bg6,h4,h5,gxh5,Bxh5,Re1+,Kd8,Nh3,Bxf3,Rhf1,Bg2,Bxf6+', 'gxf6,Rxf6,Bxh3', 'https://lichess.org/training/vD5JZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vd5TZ', 'Blitz', 'caballo2349', 1993, 'Typograf', 1918, 'e4,c5,Nf3,Nc6,c3,Nf6,d3,d6,Be2,g6,O-O,Bg7,Nbd2,O-O,d4,cxd4,cxd4,d5,e5,Ne4,Bd3,Bf5,Nb3,b6,Bxe4,Bxe4,Ng5,a5,Nxe4,dxe4,Be3,a4,Nc1,Rc8,Ne2,b5,Rc1,Nb4,Nf4,Rxc1,Qxc1,Nxa2,Qc6,Qb8,Nd5,e6,Ne7+,Kh8,Qc5,b4,Nc6,Qb7,Nxb4,Rc8,Nxa2,Rxc5,dxc5,Qxb2,c6,Qxa2', 'c7,Qc4,Rc1,Qxc7,Rxc7', 'https://lichess.org/training/vd5TZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VD7fj', 'Blitz', 'skeith73', 1652, 'lisimaco', 1659, 'c4,e5,Nc3,f6,g3,Ne7,e3,Ng6,Bg2,c6,Nge2,Bb4,a3,Ba5,b4,Bb6,c5,Bc7,e4,b6,Na4,O-O,O-O,Na6,cxb6,axb6,Nac3,Bb7,Bb2,c5,bxc5,bxc5,Nb5,Bb6,d3,Bc6,Nec3,Rb8,Nd6,Ba7,Nd5,Rxb2,Nf5,Nc7,Nxc7,Qxc7,h4,Qd8,h5,Ne7,Nh4,Qe8,Qg4,d6,h6,g6,Qe6+,Rf7,Qxd6,c4,dxc4,Bd4,Qe6,Bd7,Qd6,Rb6,Qc7,Rc6,Qa5,Rxc4,Rab1,Ra4,Qd2,Rxa3,Rb7,Bc6,Rbb1,Qa8,Qe2,Ra2,Qe1,Bb5,Kh2,Bxf1,Bxf1,Rxf2+,Kh3,Qc8+,g4,Qc3+,Qxc3,Bxc3', 'Rb8+,Rf8,Bc4+,Nd5,Bxd5+,Kh8,Rxf8#', 'https://lichess.org/training/VD7fj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vd86c', 'Classical', 'Donathan', 1918, 'atulg', 1762, 'e4,c5,Nf3,Nc6,c3,d5,e5,Bg4,Bb5,e6,d4,h6,h3,Bh5,Nbd2,a6,Be2,Bxf3,Nxf3,cxd4,cxd4,Qa5+,Bd2,Bb4,O-O,Bxd2,Nxd2,Nxd4,Nb3,Nxe2+,Qxe2,Qb6,Qg4,Qd8', 'Qxg7,Qg5,Qxh8', 'https://lichess.org/training/vd86c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vd8ap', 'Rapid', 'sidrwmn', 1877, 'AlexeyShiman291054', 2013, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,c5,c4,Nc6,Be2,cxd4,exd4,Bb4+,Bd2,Bxd2+,Qxd2,Ne4,Qd1,O-O,O-O,dxc4,Bxc4,a6,a4,b6,Qd3,Nf6,h4,Bb7,Nbd2,Nb4,Qb3,a5,Rac1,Rc8,Bb5,Rxc1,Rxc1,Ne4,Nc4,Qd5,Qe3,f5,Nxb6,Qd8,Nc4,Nd5,Qe1,Nf4,Nxa5,Ba8,b4,Kh8,Bc6,Bxc6,Nxc6,Qf6,b5,Qg6,Qf1,Nh3+,Kh2,Nhxf2,b6,Qg3+,Kg1,Nh3+,Kh1,Nef2+,Qxf2,Nxf2+,Kg1,Nd3,Rc2,h6,a5,g5,hxg5,hxg5,a6,g4,Nfe5,Qe1+,Kh2,g3+,Kh3,Nxe5,Nxe5,Rf6,Rc8+,Kh7,Rc7+,Kh6,b7,f4,b8=Q', 'Qh1+,Kg4,Qh5#', 'https://lichess.org/training/vd8ap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vDafe', 'Rapid', 'Pigge', 1832, 'grealsan', 1756, 'd4,d6,e4,Nf6,Nc3,g6,Bc4,Bg7,Nf3,Bg4,O-O,c6,h3,Bxf3,Qxf3,O-O,Bg5,Nbd7,Rad1,Qa5,Rfe1,e5,dxe5', 'Nxe5,Qe2,Nxc4', 'https://lichess.org/training/vDafe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vDAHd', 'Rapid', 'islam_zayed', 1789, 'Wladislaw2003', 1803, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,e5,Ngxe4,Nc6,d3,Bb4,Bg5,Bd7,a3,Ba5,b4,Bb6,Nd5,Nxe4,Bxd8', 'Bxf2+,Ke2,Nd4#', 'https://lichess.org/training/vDAHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdArX', 'Rapid', 'KapilArora', 1946, 'Opey99', 1960, 'e4,e6,Bc4,d5,exd5,exd5,Qe2+,Be6,Bb3,Nf6,Nf3,Be7,h3,c5,Ba4+,Nc6,Bxc6+,bxc6,O-O,O-O,d4,cxd4,Nxd4,Bd7,Re1,Qc7,Bg5,Ne4,Bxe7,Rfe8,Ba3,Ng5,Qd2,Rxe1+,Qxe1,Bxh3,Qe7,Qf4,Ne2,Qg4,Ng3,Bxg2,Kxg2', 'Qh3+,Kg1,Nf3#', 'https://lichess.org/training/vdArX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VDBHm', 'Classical', 'ahsas1512', 1871, 'ronrinehart', 1891, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c4,b4,Nc2,a5,b3,Bg5,Be2,O-O,O-O,g6,Bg4,f5,exf5,gxf5,Bh5,Kh8,f4,Bh6,fxe5,dxe5,Qf3,Qg5,Rad1,Be6,Nc7,e4,Nxe6,exf3,Nxg5,fxg2,Kxg2,Bxg5,Bf3,Rac8,Rd5,Bd8,Be4', 'Rg8+,Kf3,fxe4+', 'https://lichess.org/training/VDBHm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VDbLL', 'Rapid', 'Mess-Mend', 1850, 'mmessias19', 1797, 'e4,e6,Nf3,d6,d4,Nd7,c3,Be7,Bd3,c6,Be3,Ngf6,Nbd2,O-O,O-O,b6,h3,Bb7,a3,e5,Qc2,h6,dxe5,Nxe5,Nxe5,dxe5,Nf3,Bd6,Rad1,Qe7,Qc1,Kh7,Nh4,Bc8,f4,Bc5,fxe5,Qxe5,Bxc5,Qxc5+,Kh1,Qe5,Nf3,Qg3,e5+,g6,exf6,Bxh3,Qd2,Bg4,Qf2,Qf4,Nd4', 'Qxf2,Rxf2,Bxd1', 'https://lichess.org/training/VDbLL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VdBnj', 'Classical', 'HaSSaN201010', 1658, 'pupulwad', 1662, 'b4,e5,a3,d6,c4,a6,Bb2,Nf6,e3,d5,Bxe5,dxc4,Bxc4,b5,Bb3,Nc6,Nf3,Bg4,Bb2,Bd6,h3,Bd7,Ng5,Qe7,Bxf7+,Kd8,Bb3,Nd5,h4,h6,Nf3,Nf6,Qc2,a5,bxa5,Nxa5,Nd4,c5,Nf5', 'Bxf5,Qxf5,Nxb3', 'https://lichess.org/training/VdBnj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VdC3Q', 'Rapid', 'GordonShimm', 1912, 'easydoor', 1935, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,a5,a3,Ne7,Bg5,h6,Bh4,g5,Bg3,c6,Bc4,d5,Be5,Rh7,exd5,Nxd5,Qh5,Be6,O-O,Qd7,Nd2', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/VdC3Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdccb', 'Rapid', 'pucheroargentino', 1934, 'corvin83', 1935, 'e4,c5,Nc3,Nc6,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,O-O,a6,Bg5,Be7,Kh1,h6,Bh4,O-O,f4,Nxd4,Qxd4,b5,Bd3,Bb7,Rad1,Rc8,Rf3,d5,e5,Bc5,Bh7+,Kxh7,Qd3+,Kh8,exf6,gxf6,Rg3,Be7,f5,Rg8,Qe3,Rxg3,Qxh6+,Kg8,hxg3,d4,Ne2,Rxc2,Nf4,Bxg2+,Nxg2,Qd5,Rg1,Qxf5,Nf4,e5,Bxf6,Bxf6,Qh5,Qe4+,Ng2,Rxb2,Qh3,Qh7,Nh4,Rxa2,Qc8+,Kg7,Qg4+,Kh8,Rc1,Rc2,Rf1,Bxh4,gxh4,b4,Rf5,Rc1+,Kg2,Rc2+,Kf3,Rc3+,Ke4,Re3+,Kd5,Qg6', 'Rh5+,Kg7,Rg5', 'https://lichess.org/training/vdccb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VDcMg', 'Blitz', 'alejoheffele', 1602, 'toblp328', 1767, 'c4,Nf6,Nc3,e6,e4,d6,g3,c5,Bg2,Nc6,d3,Be7,Nge2,Qc7,O-O,b6,a3,a6,Rb1,Bb7,b4,cxb4,axb4,O-O,b5,Ne5,f4,Ng6,f5,exf5,Rxf5,a5,Nd5,Nxd5,exd5,Ne5,Bf4,Bf6,Bh6,Bc8,Rxf6,gxf6,Bxf8,Kxf8,Nd4,Bd7,Qd2,Qc5,Qh6+,Kg8,Qe3,Ng4,Qf4,Re8,Kh1,Ne5,Nf5,Nxd3', 'Qg4+,Kf8,Qg7#', 'https://lichess.org/training/VDcMg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdDeD', 'Rapid', 'sajal85', 1703, 'mystifen', 1864, 'e4,c5,d3,Nc6,c3,e6,Nf3,Nf6,g3,Be7,Bg2,O-O,O-O,d5,e5,Nd7,d4,cxd4,cxd4,Nb6,Be3,Nc4,b3,Nxe3,fxe3,h6,Nc3,a6,Ne2,Bg5,Nf4,Bxf4,exf4,Qb6,Qd2,Na7,Nh4,Bd7,Bh3,Nb5,Nf3,Rac8,Rac1,Rc6,Rxc6,Bxc6,Rd1,Rc8,Bf1,Bd7,Bh3,Nc3,Rc1', 'Ne2+,Qxe2,Rxc1+', 'https://lichess.org/training/vdDeD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdEQQ', 'Classical', 'Eriotciv', 1779, 'Hilal45', 1671, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,a3,d6,Bg5,Be6,Bd5,h6,Bh4,Qe7,Nbd2,Bxd5,exd5,Nd4,c3,Nf5,Bxf6,Qxf6,b4,Bb6,a4,a6,a5,Ba7,Ne4,Qg6,Rb1,Ne7,c4,f5,Nh4,Qf7,Ng3,f4,Ne4,Rae8,Rb3,Nf5,Nxf5,Qxf5,c5,dxc5,bxc5,Rb8,d6,cxd6,Nxd6,Qd7,Qf3,Bxc5', 'Qd5+,Kh8,Qxc5', 'https://lichess.org/training/vdEQQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdFKc', 'Rapid', 'phoenix1313', 2092, 'Arifarslan44', 2047, 'd4,Nf6,c4,d6,Nc3,g6,e4,Bg7,f4,O-O,e5,dxe5,dxe5,Qxd1+,Nxd1,Ne4,Nf2,Nxf2,Kxf2,f6,exf6,Bxf6,g3,Bd4+,Kg2,b6,Be2,e5,Bf3,c6,fxe5,Bxe5,Ne2,Bb7,Rb1', 'Rxf3,Kxf3,c5+', 'https://lichess.org/training/vdFKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VDFru', 'Rapid', 'bolk', 1666, 'fritzgrant', 1703, 'e4,e6,d4,b6,Nc3,Bb7,a3,Nf6,Bd3,d5,e5,Ng8,Qf3,Nd7,Nge2,Be7,Ng3,g6,h3,f6,exf6,Bxf6,Be3,Qe7,O-O,O-O-O,Rfe1,Re8,Qe2,Qd8,Ba6,Ne7,Bxb7+,Kxb7,Qg4,Nc6,Rad1,a6,Nce2,Na5,b3,Qe7,Ra1,Qf7,Bg5,h6,Bxf6,Nxf6,Qf3,h5,Nc3,c6,Nge2,g5,Qe3,g4,h4,g3,fxg3,Ng4,Qf4,Qg6,Rac1,Rhf8,Qd2,Re7,Nf4,Qf5,Qd3,e5,Qxf5,Rxf5,dxe5,Rexe5,Rxe5,Rxe5,Nce2,Kc7,Rd1,Kd6,Rd2,Nb7,Kf1,Nc5,Nd3,Ne4,Rd1', 'Ne3+,Kg1,Nxd1,Nxe5,Kxe5', 'https://lichess.org/training/VDFru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vDgzG', 'Blitz', 'Roust', 1671, 'Zxmck', 1608, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nf3,Bc5,Nc3,Qe7,Qe2,O-O,d3,Re8,Be3,Bb4,g3,Ng4,Bg2,Nxe3,fxe3,Nc6,O-O,Bc5,Rfe1,Bd6,b3,Qd7,d4,Bh3,Qd3,Bxg2,Kxg2,Nb4,Qd2,Qf5,e4,Qg6,a3,Nc6,c5,Be7,b4,Rad8,Nd5,Bh4,Nxh4,Qg4,Qd3,Re6,Rad1,Rde8,Nxc7,Rh6,Nf5,Qh3+,Kf3,Qh5+,Ke3,Qg5+,Kf2,Rxh2+,Kg1,Qh5,Nxe8,Rh1+,Kf2,Rh2+,Ke3,Qg5+,Kf3,Qh5+,Kf4', 'Rf2+,Ke3,Qf3#', 'https://lichess.org/training/vDgzG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VDhip', 'Rapid', 'Kaper13', 1715, 'Orso_09', 1824, 'd4,Nf6,Nf3,d5,e3,Bf5,c4,c6,Nc3,e6,h3,Bb4,Nh4,Ne4,Bd2,Qxh4,Nxe4,dxe4,Bxb4,a5,Bc5,b6,Bxb6,O-O,Qc2,Nd7,Bc7,Qe7,c5,Rfc8,Bd6,Qf6,g4,Bg6,h4,h5,gxh5,Bxh5,Qxe4', 'Bf3,Qc2,Bxh1', 'https://lichess.org/training/VDhip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdhMs', 'Blitz', 'reydiagonal', 1879, 'Snowcert', 1884, 'd4,d5,Nf3,Nf6,Nc3,e6,Bf4,c5,e3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Ne5,cxd4,Nxc6,bxc6,exd4,Bb4,O-O,Bxc3,bxc3,O-O,Bg5,Qd6,Bxf6,gxf6,f4,Kh8,Qh5,Qe7,Rf3,Rg8,Rh3,Rg7,Re1,Qd6,Qh6,f5,Qf6,Rg8,Ree3,Qxf4', 'Rxh7+,Kxh7,Rh3+,Qh6,Rxh6#', 'https://lichess.org/training/vdhMs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VdIhf', 'Rapid', 'JosephJess', 2190, 'Ademola', 2273, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,d5,e5,Bg4,Nbd2,Nc6,Bb5,e6,Bxc6+,bxc6,h3,Bf5,O-O,Ne7,b3,O-O,Ba3,f6,exf6,Bxf6,Ne5,Qb6,Nd7,Qxd4,Nxf8,Rxf8,Rc1,Qh4,Nf3,Qh5,Nh2,Qh4,f4,h5,Qe1,Bd4+,Kh1,Qf6,Nf3,Bb6,Ne5,Rd8,Bc5,Bc7,Bd4,Qf8,Qc3,Be4,Kg1,Nf5,Nxc6,Nxd4,Qxd4', 'Bb6,Qxb6,axb6,Nxd8,Qxd8', 'https://lichess.org/training/VdIhf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VdIUm', 'Rapid', 'HolyPotato', 1643, 'Melyyy', 1666, 'e4,e5,Nf3,Nf6,Nxe5,d5,exd5,Nxd5,Bb5+,c6,Bc4,Bc5,O-O,Qg5,Nf3,Qg4,Re1+,Be6,Bxd5,cxd5,d4,Bd6,h3,Qg6,Kh1,O-O,Ne5,Bxe5,Rxe5,f6,Rxe6,Nc6,Nc3,Qf5,Re2,Qh5,Bf4,g5,Bd6,g4,Bxf8,gxh3,g3', 'Qf3+,Kg1,Qg2#', 'https://lichess.org/training/VdIUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdJDs', 'Rapid', 'KoalaNefelibato', 1881, 'Krishnadewa123r', 1938, 'e4,d6,d4,a6,Nf3,Nf6,Bd3,h6,c4,c6,Nc3,e6,e5,Nfd7,O-O,Be7,Re1,b5,Bf4,Nb6,c5,dxc5,dxc5,Bxc5,Qc2,Qe7,Be4,Bb7,Rad1,N8d7,Rd2,Rc8,Red1,b4,Na4,Nxa4', 'Rxd7,Qxd7,Rxd7', 'https://lichess.org/training/vdJDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdjXD', 'Rapid', 'clevereduardo', 1916, 'Nirous', 2254, 'c4,e5,Nc3,Bb4,Qc2,Nf6,e3,O-O,Nge2,Re8,g3,Nc6,a3,Bf8,Bg2,d6,O-O,Be6,b3,d5,cxd5,Nxd5,Bb2,Qd7,Rfd1,Rad8,d4,exd4,Nxd4,Nxd4,Rxd4,Bc5,Rxd5,Bxd5,Nxd5,Bd6,Rc1,c6,Nb4,Bxb4,axb4,Qd2,Qc3,Qxc3,Bxc3,h5,Bd4,a6,Rc5,g6,Rg5,Kh7,Bf3,Rd6,Re5,Rxe5,Bxe5,Rd3,Kg2,Rxb3,Bd6,Kg7,Bd1', 'Rd3,Be5+,f6,Be2,Rd2', 'https://lichess.org/training/vdjXD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdKPT', 'Blitz', 'FM Haydon', 2552, 'TryaDery', 2633, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nd2,g6,g3,Nc6,Nxc6,bxc6,Bd3,h5,h4,Bg4,Be2,Bg7,Bxg4,Nxg4,c3,O-O,O-O,d5,Qe2,e5,Nf3,f5,exf5,Rxf5,Ng5,Qb6,Kg2,e4,Be3,Nxe3+,fxe3,Raf8,Rxf5,Rxf5,Ne6,Rf3,Nd4,Bxd4,exd4,Qb5,Qxb5,cxb5,Rd1,Kg7,Rd2,a5,a3,b4,axb4,axb4,Rc2,Rd3,Kf2,Kf6,Kg2,Kf5,Rf2+,Ke6,Rc2,Kd6,Kf2,bxc3,bxc3,Kc6,c4,Rxd4,cxd5+,Kxd5,Rc8,Rd2+,Ke3,Rd3+,Kf2,Ke5,Re8+,Kf5,Kg2,Rd2+,Kh3,Re2,Re7,e3,Re8,Re1,Kg2,e2,Kf2,Rh1,Rxe2,Rh2+,Kf3,Rxe2,Kxe2,Kg4,Kf2,Kh3,Kf3,Kh2,Kf4,Kg2,g4,Kh3', 'gxh5,gxh5,Kg5', 'https://lichess.org/training/vdKPT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdKxq', 'Rapid', 'alexandretemate', 2093, 'federicoand', 1969, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,c6,Bd3,Ne7,O-O,Bf5,Bg5,f6,Bh4,O-O,Re1,Bxd3,Qxd3,Ng6,Bg3,Bxg3,hxg3,Nd7,b3,Qc7,Qf5,Rfe8,Re6,Ngf8,Rxe8,Rxe8,Re1,Rxe1+,Nxe1,Qa5,Qd3,b5,Nf3,Nb6,Nh4,b4,Ne2,Qxa2,Nf5,Kf7,Nf4,Qb1+,Kh2,Qe1,Nd6+,Kg8,Qf3,Qe7,Nf5,Qd7,g4,Ne6,Nh5,Qf7,Qg3,g6', 'Nh6+,Kf8,Nxf7', 'https://lichess.org/training/vdKxq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vDLB1', 'Rapid', 'chewes', 1742, 'GEORGINIO', 1711, 'd4,d5,c4,e6,Nf3,dxc4,Nc3,b5,Nxb5,Ba6,Nc3,Nf6,Qa4+,Qd7,Qd1,Bb4,e3,Ne4,Qc2,f5,a3,Ba5,b4,cxb3,Qxb3,Bxc3+,Kd1,Bxf1,Ne5,Qb5', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/vDLB1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vDNGq', 'Classical', 'ErikBros27', 1636, 'jenspetermann', 1661, 'd4,d5,Bf4,Bf5,e3,Nf6,Nd2,e6,c3,Nc6,Ngf3,Bd6,Bg3,O-O,Ne5,Nxe5', 'dxe5,Bxe5,Bxe5', 'https://lichess.org/training/vDNGq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VDoCX', 'Blitz', 'RaihWinnerTewuh', 2152, 'terlufi', 2052, 'e4,g6,d4,Bg7,h4,h5,Nf3,Nc6,c3,d5,e5,Bg4,Bd3,e6,Bf4,Nge7,Nbd2,Nf5,Qb3,Rb8,Bg5,Qd7,Nh2,Nfe7,f3,Bf5,Bb5,a6,Be2,b5,g4,hxg4,fxg4,Be4,Nxe4,dxe4,Nf1,Qd5,Ng3,Na5,Qc2,Nc4,Nxe4,b4,cxb4,Rxb4,a3,Rxb2,Qxc4,Qxe4,Rh2,Nd5', 'Qc6+,Kf8,Qa8+,Rb8,Qxb8#', 'https://lichess.org/training/VDoCX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdOhv', 'Classical', 'sneilov', 1770, 'Varavvav', 1777, 'e4,e6,Nf3,d5,exd5,exd5,d4,c6,Bd3,Nf6,O-O,Bd6,Re1+,Be6,Bg5,Nbd7,c3,O-O,Nbd2,Qb6,Qc2,Rfe8,Ne5,Bxe5,dxe5,Ng4,Nf3,Qc7,Bxh7+,Kh8,Bf5,Ndxe5,Nxe5,Nxe5,Bf4,f6,Bxe6,Rxe6,Qf5,Rae8,Qh3+,Kg8,Re3,Qb6,Rb1,g5,Bxe5,Rxe5,Rxe5,Rxe5,Qc8+,Kf7,Qh8,Re2', 'Qh5+,Kg7,Qxe2', 'https://lichess.org/training/vdOhv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vdONx', 'Blitz', 'Vince_Skate', 1719, 'zabolevamv', 1627, 'd4,d5,Nc3,Nf6,Bf4,e6,e3,Be7,Nb5,Na6,Nf3,O-O,Bd3,Bd7,O-O,c6,Nd6,Bc8,Nxc8,Qxc8,c4,Nb4,a3,Nxd3,Qxd3,Ne4,cxd5,exd5,Nd2,Nxd2,Qxd2,Qe6,Rfe1,Rae8,Re2,f5,Rae1,g5,Be5,Bf6,Bxf6,Qxf6,f3,Re7,e4,fxe4,fxe4,dxe4,d5,cxd5,Qxd5+,Kg7,Rxe4,Rxe4,Qxe4', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/vdONx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vDP0C', 'Blitz', 'abdalmoula', 1801, 'Stinsonlover', 1884, 'e4,c5,Nf3,d6,g3,e5,Bg2,Nf6,d3,Be6,O-O,Be7,a4,Nc6,Nbd2,Qd7,a5,Bh3,c3,O-O,Nc4,h6,Re1,Bxg2,Kxg2,Qc7,Nh4,b6,axb6,axb6,Rxa8,Rxa8,Qc2,b5,Na3,Nh5,Nf5,g5,Nxh6+,Kh7,Nxf7,Kg6,Qe2,Rf8,Nxb5,Qd7,Nfxd6,Bxd6,Nxd6,Qxd6,Qe3,Qe7,h4,Ng7,hxg5,Ne6,Rh1,Nxg5,Qe2,Nf3,Rh6+,Kg7,Rxc6,Qd7,Rxc5,Qg4,Rc7+,Kg8,Qe3,Qh5,Kf1', 'Qh1+,Ke2,Qe1#', 'https://lichess.org/training/vDP0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VDQJq', 'Rapid', 'gojko1955', 1686, 'V-Rot-Mne-Nogi', 1775, 'e4,e5,Bc4,Nf6,d3,h6,h3,a6,a3,Nc6,Nc3,b5,Ba2,b4,axb4,Bxb4,Bd2,d6,Nd5,Bxd2+,Qxd2,Be6,Bb3,Nd4,Ba4+,c6,Nxf6+,Qxf6,Ne2,Nb5,c4,O-O,cxb5,cxb5,Bc2,d5,Ng3,d4,O-O,Qe7,f4,f6,f5,Bf7,Bd1,b4,Bh5,a5,Bxf7+,Qxf7,Ra4,Qb3,Rfa1,Rfc8,Rxa5,Rxa5,Rxa5,Rc2,Qe1,Qxb2,Ra8+,Kh7,Qf1', 'Rc1,Qxc1,Qxc1+', 'https://lichess.org/training/VDQJq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VDRdz', 'Classical', 'Velasquez05', 1625, 'Birendra', 1625, 'e4,d5,exd5,Qxd5,Nc3,Qf5,Bd3,Qg5,g3,Bg4,f3,Bd7,Be4,Nc6,d3,Qc5,Qe2,Nd4,Qd2,Rb8,Nge2,Bf5,Nxd4,Bxe4,fxe4,Qxd4,Qf4,e5,Qf3,Bb4,Bd2,Nf6,a3,Bxc3,Bxc3,Qd6,Bb4,Qc6,O-O-O,Rd8,g4,Rd4,g5,Nxe4,dxe4,Qxe4,Qxe4,Rxe4,Rhe1,Rxe1,Rxe1,f6,gxf6,gxf6,Rf1,Kf7,Be1,Rg8,Bh4,Rg6,Bg3,h5,Bxe5,Ke6,Bxc7,Rg2,b4,f5,Kb2,Kf6,Kb3,Kg5,c4,Kg4,b5,h4,a4,Rd2,a5,Rd3+,Kb4,Rd2,a6,b6,c5,Rd4+,Kb3,bxc5,Kc3,Rb4,b6,axb6,a7,Ra4,Bb8,b5,Kb2,c4,Ra1', 'c3+,Kb3,Rxa1', 'https://lichess.org/training/VDRdz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VdWVA', 'Rapid', 'ramsss1', 2047, 'tetranora', 2127, 'e4,c6,d4,d5,e5,c5,dxc5,e6,Nf3,Bxc5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ne7,Nc3,Ng6,Re1,O-O,Na4,Be7,b3,Rc8,Bb2,b5,Nc3,Bb4,Qd4,Bc5,Qd3,a6,Ne2,Qb6,Ned4,Qb8,Rac1,Ndxe5,Nxe5,Nxe5,Qg3,Ng6,Qf3,Qf4,Qd3,Rfd8,g3,Qd6,Nf3,Qb6,Qe2,b4,Rf1,a5,Ne5,Bd4,Nxg6,hxg6,Bxd4,Qxd4,Rfd1,Qb2,Qd3,Rc3,Qb5,Qxa2,Ra1,Qxc2,Qxa5,Rdc8,Qxb4,Rxb3,Qe7,Rb2,Rf1,Qf5,Ra7,Rxf2', 'Rxf2,Rc1+,Kg2', 'https://lichess.org/training/VdWVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VDXHB', 'Rapid', 'spskiller', 1701, 'kidsmaster1', 1739, 'Nf3,Nf6,d4,d5,c4,e6,Bg5,Be7,Nc3,c6,e3,Nbd7,cxd5,cxd5,Qa4,O-O,Bd3,a6,O-O,b5,Bxb5', 'Nb6,Qb3,axb5', 'https://lichess.org/training/VDXHB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vDYZd', 'Rapid', 'CrazyKnight98', 1796, 'dezmon2020', 1804, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,Be7,c3,O-O,Ngf3,b6,Bd3,Bb7,Ne5,Nc6,h4,a5,g4,a4,g5,Nd7,Bxh7+,Kxh7,Qh5+,Kg8,g6,Nf6', 'gxf7+,Rxf7,Qxf7+', 'https://lichess.org/training/vDYZd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VE0r0', 'Rapid', 'Miisha65', 1750, 'romen', 1675, 'e4,e5,Nf3,d6,h3,Be7,Nc3,c6,Be2,Nf6,d3,O-O,O-O,Be6,Bg5,h6,Bh4,Nbd7,d4,exd4,Nxd4,Nh7,Nxe6,fxe6,Bxe7,Qxe7,f4,Kh8,Bh5,Nhf6,Bg6,e5,f5,Rfd8,Qf3,Nf8,Ne2,Nxg6,fxg6,Rf8,Ng3,Qe8,Qd3,Qxg6,Nf5,Rad8,Rf3,d5,Rg3,dxe4', 'Qxd8,Rxd8,Rxg6', 'https://lichess.org/training/VE0r0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VE1ga', 'Blitz', 'leonel17', 1546, 'followmainline', 1611, 'e4,d5,e5,c5,Nf3,Nc6,Bb5,a6,Bxc6+,bxc6,c3,Bg4,d4,cxd4,cxd4,e6,Be3,Ne7,Nbd2,Ng6,O-O,Qc8,b4,Bxb4,a3,Bxd2,Bxd2,O-O,h3,Bh5,g4,Bxg4,hxg4,f5,g5,f4,Qc1,Qd8,Kg2,Nh4+,Nxh4,Qxg5+,Kh3,Qh5,Bxf4,g5,Bxg5,Rf3+,Kg2', 'Qg4+,Kh1,Rh3#', 'https://lichess.org/training/VE1ga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ve3C3', 'Blitz', 'SajMarissa', 1586, 'andreachess', 1526, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,Qc7,f4,d6,f5,e5,Nf3,Nf6,Bg5,Be7,Be2,b5,a3,Bb7,Qd3,O-O,g4,Rfe8,Bxf6,Bxf6,g5,Be7,g6,h6,gxf7+,Kxf7,O-O-O,Nd4,Nxd4,exd4,Qxd4,Bg5+,Kb1,Rad8,Bh5+,Kg8,Bxe8,Rxe8,h4,Bf6,Qe3,a5,Rhg1,b4,Qxh6,bxc3,Qxf6,Bxe4,Qxd6,Qb7,b3', 'Qxb3+,Ka1,Qb2#', 'https://lichess.org/training/Ve3C3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ve3eV', 'Blitz', 'CrownedPawn', 1906, 'sneginka', 1906, 'd4,b6,e4,Bb7,Nc3,e6,Be3,Bb4,Qd3,c5,a3,cxd4,Qxd4,Bxc3+,bxc3,Qf6,e5,Qe7,Nf3,Bxf3,gxf3,Nc6,Qe4,f5,Qa4,Nxe5,Be2,Nf6,Rg1,O-O,f4,Nc6,Bd3,Nd5,O-O-O,Nxc3,Qb3,Nxd1,Kxd1,d5,Bb5,Na5,Qd3,Rac8,Bd4,g6,Qh3,Nc4', 'Rxg6+,hxg6,Qh8+,Kf7,Qg7#', 'https://lichess.org/training/Ve3eV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ve3sn', 'Rapid', 'shivangjoshi', 1743, 'deyan70', 1769, 'e4,e5,f4,exf4,Nf3,Nf6,Nc3,Bb4,d4,Nxe4,Bd2,Nxd2,Qxd2,O-O,Qxf4,Re8+,Kf2,Bxc3,bxc3,d5,Bd3,h6,Rae1,Be6,g4,Nd7,g5,hxg5,Nxg5,Nf6,Qh4,Ne4+,Rxe4,dxe4,Bxe4,Qf6+,Bf3,Qh6,Qg3,c6,Rg1,Qg6,Be4,Bf5,Bxf5,Qxf5+,Kg2,Re2+,Kh1,Qd5+,Nf3,g6,h4,Rae8,c4,Qe4,h5,Re6,c3,Rf6,Rf1,Rf4,hxg6,Rxf3,Rxf3,Re1+,Kh2,Qe2+,Rf2', 'Qh5+,Qh3,Rh1+,Kxh1,Qxh3+', 'https://lichess.org/training/Ve3sn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vE8dP', 'Rapid', 'zazalod', 1767, 'kombinaciya', 1827, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nf3,e6,Nc3,Nc6,Be2,Be7,O-O,dxc4,Bxc4,O-O,Re1,a6,Bf4,b5,Bf1,Bb7,a3,Rc8,h3,Re8,Qd2,Na5,Rad1,Nc4,Qe2,Bxf3,Qxf3,Nxb2,Rc1,Nc4,d5,Nxd5,Nxd5,Qxd5,Qg3,Bxa3,Rcd1,Qf5,Bd3,Qf6,Bg5,Qc3', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/vE8dP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ve8xO', 'Rapid', 'wwwserg', 1815, 'frankw1337', 1905, 'e4,e6,e5,d5,d4,c5,Nf3,Nc6,Be3,Qb6,b3,cxd4,Bxd4,Bc5,Bxc5,Qxc5,Be2,Bd7,O-O,Nge7,a3,Ng6,b4,Qb6,Nbd2,Ncxe5,Nxe5,Nxe5,Nf3,Nxf3+,Bxf3,O-O,c3,Rac8,Qd2,Rc7,Rac1,Rfc8,h3,Qd6,Qg5,Rxc3', 'Rxc3,Rxc3,Qd8+,Qf8,Qxd7', 'https://lichess.org/training/ve8xO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ve90q', 'Rapid', 'kadir_yavuz_46', 1795, 'ruegg', 1819, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,b4,Be7,e5,d5,exf6,Bxf6,Bd3,dxc3,Qc2,Nxb4,Qa4+,Nc6,O-O,O-O,Na3,c2,Nxc2,Bxa1,Nxa1,Bd7,Qc2,Bg4,Bxh7+,Kh8,Ng5,f6,Bb2,fxg5,Bxg7+,Kxg7,Qg6+,Kh8,Qh6,Qf6', 'Bg6+,Kg8,Qh7#', 'https://lichess.org/training/ve90q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vE9Vg', 'Rapid', 'bphore', 1648, 'SrGordito', 1717, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h6,f4,Be4,Rh3,e6,Nc3,Qa5,Bd2,Bb4,Nxe4,dxe4,Bxb4,Qxb4+,c3,Qb6,Qc2,Nd7,O-O-O,O-O-O,Qxe4,Ne7,Nf3,Qa5,Kb1,Nb6,Nd2,Na4,Nb3,Qb6,Bc4,Nd5,f5,a5,Bxd5,cxd5,Qc2,Kd7,Rf1,Qb5,Rhf3,Nb6,Nc5+,Ke7,Qb3,Qc6,Qa3,Ke8,fxe6,fxe6,Qxa5,Nc4,Qa4,Qxa4,Nxa4,Nd2+,Kc2,Nxf1,Rxf1,Rf8,Nb6,Ra8', 'Rxf8+,Kxf8,Nxa8', 'https://lichess.org/training/vE9Vg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vea6q', 'Rapid', 'rozzilla', 1618, 'dratak', 1716, 'e3,e5,d4,exd4,exd4,Nf6,Nf3,Bd6,c4,O-O,c5,Be7,Be3,d6,cxd6,Bxd6,Nc3,Bg4,h3,Bxf3,Qxf3,Re8,Bc4,c5,O-O-O,Qb6,Na4,Qb4,Nxc5,Qxc4+,Kb1,Bxc5,Qxb7,Qd5,Qxd5,Nxd5,dxc5,Nxe3,fxe3,Nc6,Rd6,Nb4', 'a3,a5,axb4', 'https://lichess.org/training/Vea6q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('veaSM', 'Rapid', 'GreatBigYellowSheep', 1942, 'mo_sameh2020', 1908, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,a6,Nxc6,bxc6,Bc4,Bb7,Qf3,Bc5,e5,Nd5,Nxd5,cxd5,Bxd5,Bxd5,Qxd5,d6,exd6,Bxd6,Bg5', 'Bb4+,Qd2,Bxd2+', 'https://lichess.org/training/veaSM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VeBE7', 'Rapid', 'mike_ching', 1872, 'kian55', 1841, 'e4,c6,d4,d6,Nf3,Nf6,Bd3,g6,e5,dxe5,Nxe5,Bg7,O-O,Qxd4,Nxf7,Kxf7', 'Bxg6+,hxg6,Qxd4', 'https://lichess.org/training/VeBE7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vEBhi', 'Blitz', 'BadMilk', 1983, 'dieguito43', 1898, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bf4,Bd6,Bxd6,Qxd6,c3,O-O,Be2,Bg4,Ne5,Bxe2,Qxe2,Nc6,Nxc6,Qxc6,O-O,Rfe8,Qc2,Re7,Nd2,Rae8,Nxe4,Rxe4,Rad1,Qc4,b3,Qe2,Rd2', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/vEBhi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('veBNu', 'Rapid', 'LemonCurry64', 1624, 'Hnucl79', 1688, 'e4,c5,Nf3,d6,c4,Nf6,Nc3,g6,d3,Bg7,Bg5,O-O,Qd2,a6,Bh6,Nc6,Bxg7,Kxg7,h4,Rb8,Qg5,e5,h5,Nxh5', 'Rxh5,Qxg5,Rxg5', 'https://lichess.org/training/veBNu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VeBOf', 'Classical', 'earlmiddleton40', 1821, 'verrama', 1796, 'e4,e6,Nc3,a6,Nf3,h6,d4,c5,d5,exd5,Nxd5,d6,Bd2,Bg4,Be2,Bxf3,Bxf3,Nf6,Bc3,Nxd5,Qxd5,Nd7,Qxb7,Nf6,Qc6+,Nd7,Bg4,Ra7,O-O,Be7,Bxd7+,Qxd7,Qxd7+,Rxd7,Bxg7,Rg8,Bxh6,Rb7,Rab1,Bf6,c3,Be5,h3,Re7,Kh1,Re6,Be3,Reg6,g3,Rh8,Kg2,Rg7,Rh1,Ke7,Rbd1,Rb8,Rd2,Rb5,f4,Bf6,Kf3,Kd7,g4,Bh4,g5,Ke6,Re2,f5,exf5+,Kxf5,Rd1,Rb6,Rd5+,Kg6,f5+,Kh5,g6,Bf6,Bf2,Be5,Re4,Rxb2,Rh4+,Kg5,Rg4+,Kxf5,h4', 'Rxf2+,Kxf2,Kxg4', 'https://lichess.org/training/VeBOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('veBv8', 'Blitz', 'NO-come-BACK', 1977, 'J_Umbaran', 1984, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,c6,d4,Bf5,Bc4,Nf6,Bxf7+,Kxf7,Ne5+,Kg8,g4,Bg6,h4,Be4,Nxe4,Nxe4,c3,Nd7', 'Qb3+,e6,Qxe6#', 'https://lichess.org/training/veBv8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VEDM9', 'Rapid', 'MPC_AJEDREZ', 2087, 'ali-alfanar', 2142, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,Nd7,c4,dxc4,Bxc4,c5,Qb3,Nb6,Bb5+,Nd7,Ne5,Nf6,Bg5,a6,Bxf6,Qa5+,Nc3,axb5,Nxd7,Kxd7,Be5,Bd3,O-O-O', 'c4,Qxb5+,Qxb5', 'https://lichess.org/training/VEDM9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vEfmk', 'Classical', 'pashapower', 1657, 'le_moun', 1616, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Bc4,b6,Nxe5,Qg5,Ng4,d5,Bxd5,Bxg4,f3,Qh4+,Kf1,Bc5,fxg4,Nxc2,g3,Qf6+,Kg2,Qf2+,Kh3,Nxa1,Rf1,Qd4,Bxa8,Nf6,Bc6+,Nd7,Bd5,O-O,d3,Ne5,g5,Nxd3,Bxf7+,Rxf7,Rxf7,Kxf7,Qh5+,Ke6,Qg4+,Kd6,Bf4+,Nxf4+,Qxf4+,Kc6,Nc3,Qd7+,Kh4,Be7,Qf5,h6', 'Qb5+,Kb7,Qxd7', 'https://lichess.org/training/vEfmk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('veGSe', 'Blitz', 'Agn0se', 2024, 'dhikawpp', 2157, 'f4,e5,fxe5,d6,exd6,Bxd6,Nf3,Nh6,g3,Bg4,Bg2,O-O,O-O,c6,d4,Nd7,c3,Nf5,e4,Ne7,e5,Bc7,Qc2,c5,Nbd2,Rc8,Ng5,g6,e6,fxe6,Rxf8+,Qxf8,Nde4,Bf5,Qe2,cxd4,cxd4,Bb6,Be3,Nd5,Bf2,h6,g4,Nf4,Qb5,Nxg2,Qxd7,Rc7,Nf6+,Qxf6,Qe8+,Qf8,Qa4,hxg5,Kxg2,Bxg4,Bg3,Qf3+,Kg1,Qd3,Qe8+,Kg7,Be5+,Kh6,Qh8+,Rh7', 'Bg7+,Kh5,Qxh7#', 'https://lichess.org/training/veGSe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vEH7X', 'Blitz', 'FM AceBonaventura', 2438, 'TomSawyer53', 2578, 'd4,e6,Nf3,c5,c3,Nf6,Bf4,d5,e3,Bd6,Bg3,O-O,Nbd2,Qc7,Bd3,Nbd7,Rc1,e5,dxe5,Nxe5,Nxe5,Bxe5,Qe2,Re8,Nf3,Bxg3,hxg3,h6,Bb5,Re7,O-O,Bg4,Rfd1,Rd8,Qc2,Ne4,Be2,Bf5,Qa4,Bd7,Qb3,Be6,c4,Red7,cxd5,Bxd5,Bc4,Bxc4,Rxd7,Rxd7,Qxc4,Nd2,Qxc5', 'Nxf3+,gxf3,Rd1+,Rxd1,Qxc5', 'https://lichess.org/training/vEH7X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vEhYX', 'Rapid', 'shlexter', 1804, 'E_Onegin', 1886, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Nxe4,Nxe4,d5,Qe2,dxc4,Qxc4,Be6,Qb5,Rb8,Nbc3,Be7,d3,O-O,Be3,a6,Qa4,Qc8,Ng5,b5,Qe4,f5', 'Qxc6,Bxg5,Bxg5', 'https://lichess.org/training/vEhYX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VEi7h', 'Rapid', 'salirbeber', 1949, 'Gerard1963', 1946, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,Be3,O-O,f4,Qc7,Qf3,b5,g4,Bb7,Bxe6,fxe6,Nxe6,Qc4,Nxf8,Bxf8,Rg1,Bxe4,Nxe4,Qxe4,Qxe4,Nxe4,O-O-O,Nc6,f5,Rc8,Bf4,Nb4,c3,Nxa2+,Kb1,Naxc3+,bxc3,Nxc3+,Kb2,Nxd1+,Rxd1,Rc6,Bg3,Kf7,Kb3,g6,fxg6+,Kxg6,h3,h5,gxh5+,Kxh5,Kb4,Be7,Re1,Bh4,Re3,Bxg3,Rxg3,Kh4,Rd3,d5,Ka5,d4,Kb4,Rc3', 'Rxd4+,Kg3,Kxc3', 'https://lichess.org/training/VEi7h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VEieo', 'Blitz', 'dewp', 1859, 'sethaqua', 1821, 'Nf3,Nf6,d4,d5,Bg5,Nbd7,e3,e6,Nbd2,Be7,Bd3,O-O,O-O,c6,c4,dxc4,Nxc4,Qc7,Bf4,Qd8,Qc2,Re8,Nce5,Bf8,Bg5,h6,Bh4,g5,Bg3,Bg7,Nxd7,Bxd7,Ne5,Nh5,Nxd7,Qxd7,Rac1,Nxg3,fxg3,Rac8,Qf2,f5,Bc4,b5,Bb3,a5,a3,a4,Ba2,Kh7,Rc2,Qd6,Rfc1,b4,axb4,Qxb4,Rxc6,Rxc6,Rxc6,a3,bxa3,Qxa3,Bxe6,Qa1+,Qf1,Qa7,Qd3,Qa1+,Kf2,Qb2+,Kf3', 'g4+,Kf4,Qf2#', 'https://lichess.org/training/VEieo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VEil1', 'Classical', 'andreyivs', 1686, 'MNKKHH', 1695, 'e4,e6,d4,d5,Nc3,Bb4,Bd2,Bxc3,Bxc3,dxe4,Qg4,g6,Qxe4,Nf6,Qe3,O-O,Nf3,Nd5,Qd2,Nc6,O-O-O,Qd6,a3,a6,Qh6,f6,Qd2,b5,h4,b4,axb4,Ncxb4,Bxb4,Nxb4,c3,Na2+,Kc2,Rb8,Ra1,Qd5,Qd3', 'Qb3+,Kd2,Qxb2+,Qc2,Qxa1', 'https://lichess.org/training/VEil1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VEKGS', 'Rapid', 'Josvag', 1735, 'THIERRY2A', 1731, 'e4,e5,Nc3,Qf6,Bc4,Bc5,Qf3,c6,d3,b5,Bb3,a5,a4,b4,Nce2,Bb7,Ng3,g6,Be3,d6,Bxc5,dxc5,Qe3,Nd7,N1e2,Ne7,O-O,O-O,Qh6,Nb6,h4,Ba6,h5,c4,dxc4,Bxc4,Bxc4,Nxc4,b3,Nd6,hxg6,Qxg6,Qh4,Ra7,f3,Kh8,Kf2,Rg8,Rh1,c5,Rh2,c4,Rah1,Rg7,Nh5,Rg8,Nf6,Rg7,Qxh7+,Rxh7', 'Rxh7+,Qxh7,Rxh7#', 'https://lichess.org/training/VEKGS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('veKlb', 'Rapid', 'katsefronima', 1900, 'gortina', 1869, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,Be2,Qb6,d3,Bd7,c3,Nge7,Na3,Ng6,Nc2,Be7,a3,O-O,O-O,f6,d4,cxd4,cxd4,fxe5,fxe5,Ngxe5,Nxe5,Nxe5,Kh1,Nc6,b4,Bf6,Be3,Ne7,a4,Nf5,a5,Qc7,Bg1,b6,a6,Rac8,Ne3,Bxd4,Nxd5,exd5,Bxd4,Nxd4,Qxd4,Bc6,b5,Ba8,Bf3,Qc3,Bxd5+,Bxd5,Qxd5+,Kh8,Qb7,Rxf1+,Rxf1,Qc1,Qf3,h6,h3,Qg5,Qb7,Rc2', 'Rf8+,Kh7,Qe4+,Qg6,Rh8+,Kxh8,Qxg6', 'https://lichess.org/training/veKlb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('veLaP', 'Rapid', 'TkachenkoAndrey', 2169, 'Alex-Ruby2318', 2009, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,h3,Bxf3,Qxf3,Nf6,d3,Bc5,Be3,Qe7,Nd2,O-O,Bg5,Qe6,Bxf6,Qxf6,Qxf6,gxf6,Nf3,Kh8,Rad1,Rg8,d4,Bd6,dxe5,fxe5,Nh4,Rg5,Nf5,Rag8,g3,R8g6,h4,Rh5,f3,Bc5+,Kh2,Rg8,g4,Rxf5,exf5,Be3,Rd7,Bf4+,Kh3,h5,Rfd1,e4,fxe4,Rxg4,R1d3,Rg1,Rxf7,Kg8,Rdd7', 'Rg3+,Kh2,Rg7+', 'https://lichess.org/training/veLaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vElOI', 'Rapid', 'kvasdopil1', 1982, 'amv1212', 1734, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Bd3,Ngf6,Qe2,Be7,Nf3,b6,Nxf6+,Nxf6,Ne5,Bb7,Bb5+,Kf8,c3,Bd6,Bg5,a6,Bc6,Bxc6,Nxc6,Qd7,Qf3,Nd5,Ne5,Bxe5,dxe5,Qb5,c4,Qxc4,Rc1,Qb4+,Kf1,Qxb2,g3,Qxe5,Bd2,c5,Bc3,Qg5,Rd1,f6,Kg2,Kf7,h4,Qg6,Rxd5,Rhd8,Rxd8,Rxd8,Qb7+,Kg8,Re1,Qd3,Qe7,Qd5+,Kh2,e5,Bxe5,fxe5,Rxe5,Qd2,Rf5,Qd7', 'Rf8+,Rxf8,Qxd7', 'https://lichess.org/training/vElOI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vELPG', 'Rapid', 'Ghassanohmaidy', 1602, 'szaszekmatek', 1624, 'd4,Nf6,Bf4,e6,e3,d5,c4,c5,Nc3,Nc6,a3,a6,f3,b5,cxb5,axb5,Nxb5,Qa5+,Nc3,cxd4,exd4,e5,Bd2,exd4,Nxd5,Qd8,Qe2+,Be7,Nxf6+,gxf6,Nh3,Bxh3,gxh3,Ne5,Bg2,d3,Qe4,Rc8,O-O,Rc2,Qa4+,Rc6,f4,Bc5+,Kh1,Ke7,Bxc6,Nxc6,Qxc6,Qd4,Rfe1+,Kd8,Qa8+,Kc7,Qxh8', 'Qd5+,Re4,Qxe4#', 'https://lichess.org/training/vELPG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vELTE', 'Rapid', 'ahasferus', 1633, 'Billasdf', 1643, 'e4,c5,Nf3,Nc6,d4,cxd4,Bc4,d6,O-O,e6,Nxd4,Nf6,Re1,Be7,c3,Qc7,Bb3,O-O,h3,Na5,Bc2,a6,Bg5,b5,Qd3,Nc4,Bc1,Bb7,f3,d5,b3,Ne5,Qe2,dxe4,fxe4,Ned7,Bb2,Rfd8,Nd2,Bc5,Kh1,Ba7,Rad1,Rac8,N2f3,Ne5,c4,bxc4,Nxe6,fxe6,Bxe5,Qe7,bxc4,Bb8,Bb2,Qc7,e5,Nh5,Ng5', 'Ng3+,Kh2,Nxe2,Bxh7+,Kh8', 'https://lichess.org/training/vELTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vEnM8', 'Classical', 'PieterNBA', 2072, 'clever1297', 1859, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,cxd4,cxd4,f6,exf6,Qxf6,Nf3,e5,dxe5,Ndxe5,Nxe5,Nxe5,Bg5,Qxg5,O-O,Bh3,Ng3,Bg4,Qa4+,Kf7', 'f4,Nf3+,gxf3', 'https://lichess.org/training/vEnM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VeNwB', 'Rapid', 'sabahi-mohammad', 2193, 'aliakbaranari', 2138, 'd4,d5,c4,c6,Nc3,dxc4,a4,Nf6,Nf3,Qa5,Bd2,Qf5,e3,Be6,Ne5,Nbd7,Nxc4,g5,f3,g4,e4,Qg6,Be3,gxf3,gxf3,Qh5,Bf2,Rg8,b4,O-O-O,b5,Bxc4,Bxc4,c5,Rc1,Ne5,Be2,e6,Nb1,Kb8,dxe5,Rxd1+,Rxd1,c4,Rd8+,Kc7,Rxf8,Rxf8,exf6,Qg5,Kd1,Qxf6,Bg3+,Kc8,Kc2,Qa1,Bxc4,Qxa4+,Kb2,Rd8,Rc1,Kd7,Na3,Ke7,Bf4,Qb4+,Ka2,Kf6,Rc2,h5,Rg2,Ke7,Bg5+,f6,Bh6,Rd1,Be2,Rd6,Bc4,Qe1,Rg7+,Kd8,Rg8+,Kd7,Rg7+,Kc8,Rg8+,Kc7,Rg7+,Rd7,b6+,axb6,Rg2,Qd1,Nb5+,Kc6,Kb2,Qe1,Nc3,Rh7,Bf8,Rd7,Bb5+,Kc7,Bxd7,Kxd7,Rg7+,Kc8,Kb3,Qf1,Bd6,Qxf3,Rc7+,Kd8,Rxb7,f5,Rxb6,Qe3,Rc6,f4,Bc5,Qh3,Ra6,f3,Ra2,Ke8,Rf2,Qg4,Kc4,Qf4,Kd3,Qf6,Bd4,e5,Bc5,Qd8+,Kc4,Qf6,Kb5,Kd7,Rd2+,Ke8,Nd5,Qg7,Ra2,Qd7+,Kc4,Qh3,Rf2,Kd7,Kd3,Ke6,Ne3,Qh4,Rxf3,Qxh2,Nd5,Qa2,Rf6+,Kd7,Rf7+,Kd8,Kc3,Qg2,Be3,h4,Rh7,Qf1,Bg5+,Kc8,Rxh4,Qg1,Be3', 'Qe1+,Kc4,Qxh4', 'https://lichess.org/training/VeNwB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VEohj', 'Rapid', 'ZIN77L', 1636, 'WuxiBoy29', 1889, 'e4,e5,Bc4,Nf6,Nf3,Nc6,c3,Bc5,O-O,d6,Ng5,O-O,a4,Bg4,Nf3,Nxe4,d3,Nf6,b4,Nxb4,cxb4,Bxb4,Bg5,d5,Bxf6,Qxf6,Bxd5,c6,Be4,Rfd8,Nbd2,Rd7,h3,Bh5,g4,Bg6,Bxg6,hxg6,Ne4,Qf4,Qe2,Rad8,Rad1,f5,Neg5,fxg4,hxg4,Qxg4+,Kh2,Bd6,Ne4,Qh5+,Kg2,Qg4+,Ng3,Bc7,Nxe5', 'Qxe2,Nxe2,Bxe5', 'https://lichess.org/training/VEohj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vepjy', 'Rapid', 'Mehmetelgun', 1711, 'hyper_nova', 1773, 'e4,e5,Nf3,d6,Bc4,Nf6,O-O,Be7,d3,O-O,Be3,Nc6,c3,Na5,Bb3,Ng4,Bc2,f5,exf5,Bxf5,h3,Nf6,Nfd2,Qd7,g4,Bxg4,hxg4,Nxg4,d4,Rf7,Ne4,Raf8,Nbd2,Nxe3,fxe3,Rxf1+,Nxf1,Qh3,Neg3,Bh4,Qh5', 'Rxf1+,Nxf1,Bf2+,Kxf2,Qxh5', 'https://lichess.org/training/vepjy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vEQFs', 'Rapid', 'TameemAmajd', 1637, 'lukex75', 1743, 'd4,e6,c4,c6,Nf3,d5,e3,Nf6,Be2,Be7,O-O,O-O,a3,Bd7,Nbd2,Be8,h3,Nbd7,Ne5,Nxe5,dxe5,Nd7,f4,Bc5,Nf3,Qb6,Qd3,f6,b4,Bg6,bxc5', 'Bxd3,cxb6,Bxe2', 'https://lichess.org/training/vEQFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VeQtI', 'Classical', 'iceman2008', 2079, 'philodendron68', 2241, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,h3,g6,Bb5,Bg7,O-O,Nf6,Ne5,Bd7,Bxc6,bxc6,Bf4,O-O,Re1,Qb6,Nxd7,Nxd7,Rxe7,Rad8,c3,Qxb2,Nd2,Qxc3,Bc7,Qxd4,Bxd8,Rxd8,Rc1,Ne5,Nb3,Qb6,Qd4', 'Nf3+,gxf3,Bxd4', 'https://lichess.org/training/VeQtI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('verAq', 'Blitz', 'GM Elda64', 2534, 'IM PlemSovhoz', 2435, 'd4,Nf6,c4,e6,Nf3,c5,d5,b5,dxe6,fxe6,cxb5,d5,e4,Nxe4,Bd3,Nf6,O-O,Bd6,Bg5,O-O,Nc3,h6,Bh4,Nbd7,Re1,Nb6,a4,Rb8,a5,Na8,Bb1,Nc7,Qd3,c4,Qc2,Nxb5,Bxf6,Qxf6,Qh7+,Kf7,h4,Nxc3,bxc3,e5,Rxe5,Bxe5,Bg6+,Ke6,Re1,Kd6,Rxe5,Bg4,Be4,Rb5,a6,Bxf3,Rf5,Bxe4,Rxf6+,Rxf6,Qxg7,Rb1+,Kh2,Rxf2', 'Qg3+,Kc6,Qxf2', 'https://lichess.org/training/verAq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VerkG', 'Rapid', 'Mr-obodavic', 1873, 'ViperVernom', 1901, 'd4,e6,Bf4,Ne7,e3,Ng6,Bg3,d6,c4,c6,Bd3,f5,h3,Be7,Nf3,O-O,O-O,Na6,Qb3,c5,d5,Nb4,a3,Nxd3,Qxd3,e5,Qb3,a6,Nc3,Bd7,Rfb1,f4,exf4,exf4,Bh2,Bf5,Rc1,Ne5,Ne2,Nd3,Rd1,Ne5,Nxf4,Nxf3+,Qxf3,Bg5,Qc3,Bf6,Qb3,Rb8,g4,Bd7,Re1,b5,Rab1,bxc4,Qxc4,Bb5,Qc2,Qd7,b3,a5,a4,Ba6,Nh5,Bd4,Bg3,Rbe8,Nf4,Be5,Ne6,Bxg3,fxg3,Rf3,Kg2,Bd3,Qb2,Qf7,Nf4,Rxf4,Rxe8+', 'Qxe8,gxf4,Qe4+', 'https://lichess.org/training/VerkG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VEroH', 'Blitz', 'GM Dr-BassemAmin', 2676, 'IM Odirovski', 2450, 'e4,Nf6,e5,Nd5,d4,d6,Bc4,Nb6,Bb3,d5,Nf3,Bg4,h3,Bh5,e6,fxe6,O-O,Nc6,g4,Bf7,Ng5,Bg8,Re1,Qd7,Bf4,h6,Nf3,g5,Be5,Rh7,c3,Rf7,Bc2,O-O-O,Nbd2,Bh7,Bxh7,Rxh7,Qc2,Rf7,Qg6,Qe8,Qxe6+,Kb8,b4,Nxe5,Nxe5,Rf6,Qg8,e6,Nb3,Na4,Re3,Bd6', 'Qxe8,Rxe8,Nd7+,Kc8,Nxf6', 'https://lichess.org/training/VEroH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vErqe', 'Rapid', 'Pik1960', 2039, 'Riobaldo22', 1888, 'd4,d5,c4,e6,Nc3,Nf6,h4,Be7,f3,b6,Be3,dxc4,Bf2,Nd5,e4,Nxc3,bxc3,Ba6,g4,b5,a3,c6,Ne2,Qc7,Bg3,Bd6,e5,Be7,g5,Nd7,f4,Nb6,Bg2,Nd5,Qd2,Bb7,Ng1,a6,h5,Qa5,Bxd5,cxd5,Ke2,b4,cxb4,Bxb4', 'Qxb4,Qxb4,axb4', 'https://lichess.org/training/vErqe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vEs6d', 'Rapid', 'SoBadSoSad', 1965, 'SandyFrost', 1992, 'd4,c5,d5,Nf6,c4,e5,Nc3,Bd6,Bg5,h6,Bh4,g5,Bg3,Qb6,Qc2,e4,Bxd6,Qxd6,Nxe4,Nxe4,Qxe4+,Qe7,Qxe7+,Kxe7,e4,d6,Ne2,f5,exf5,Bxf5,Ng3,Bg6,Rd1,Nd7,Bd3,Bxd3,Rxd3,Ne5,Re3,Kd7,b3,Rae8,O-O,h5,Nf5,h4,Rfe1,g4,Ng7,Ref8,Ne6,Rf7,h3,Rg8,Nxc5+,Ke7,Nxb7,Kd7,Nxd6,Kxd6,Rxe5,gxh3,Re6+,Kd7,R6e4', 'Rxg2+,Kh1,Rfxf2', 'https://lichess.org/training/vEs6d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VEsDi', 'Blitz', 'MrSOK', 2517, 'IM Vagerhook', 2574, 'd4,Nf6,Bg5,Ne4,Bh4,c5,Nd2,Qa5,c3,Nxd2,Qxd2,cxd4,cxd4,Qxd2+,Kxd2,Nc6,Nf3,d5,e3,e6,Bb5,Bd7,Rhc1,Bd6,Bg3,Bxg3,hxg3,f6,Ne1,Ke7,Nd3,Rhc8,Nc5,Rab8,Rc3,a6,Ba4,Be8,Rac1,Na5,Bxe8,Rxe8,b3,Kd6,Kd3,Rec8', 'Nxb7+,Nxb7,Rxc8,Rxc8,Rxc8', 'https://lichess.org/training/VEsDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VeSsS', 'Rapid', 'Guachitorito', 2059, 'AECClinic', 2106, 'e4,e5,Nf3,Nf6,Bc4,Nc6,O-O,Nxe4,Re1,d5,Bb3,Bc5,d3,Bxf2+,Kh1,Bxe1,Qxe1,Nf6,Nxe5,O-O,Nxc6,bxc6,Bg5,Qd6,Nd2,Bg4,Qh4,Bf5,Rf1,Bg6,Bxf6,gxf6,Rxf6,Qe5,Rf1,Rfe8,Nf3,Qe2', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/VeSsS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vet1L', 'Blitz', 'NMhmm', 2113, 'IM Rider_Diaz', 2566, 'd4,d5,c4,e6,Nc3,Nf6,g3,Be7,cxd5,exd5,Bg2,c6,Nh3,O-O,f3,c5,O-O,cxd4,Qxd4,Nc6,Qd1,d4,Ne4,Nxe4,fxe4,Bxh3,Bxh3,Qb6,Kh1,Rad8,Bg2,Ne5,Bf4,Nc4,b3,Ne3,Bxe3,dxe3,Qc1,Rd2,Re1,Rfd8,Bf3,Qe6,Qc3,Qb6,a3,a5,Rab1,Bxa3,Qe5,Bf8,Kg2,g6,Ra1,Bg7,Qxa5,Qxb3,Rab1,Bb2,Kf1,b5,h4,h5,Kg2,b4,Qb6,Qc4', 'Rxb2,Rxb2,Qxd8+', 'https://lichess.org/training/Vet1L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VETE1', 'Rapid', 'irakli2016', 1663, 'amattar', 1683, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d3,Bb4,O-O,O-O,a3,Ba5,b4,Bb6,a4,a5,b5,Nb4,Nxe5,Bd4,Ng6,Bxc3,Ra3,d5,Rxc3,fxg6,exd5,Nfxd5,Ra3,Kh7,c3,Qf6,cxb4,axb4,Rb3,Nc3,Qc2,Rxa4', 'Rxc3,Qxc3,Qxa4', 'https://lichess.org/training/VETE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vETjd', 'Rapid', 'gerodes', 1710, 'helios007', 1814, 'c4,e5,Nc3,Bc5,g3,a6,a3,d6,Bg2,Nc6,d3,Bg4,b4,Ba7,Nf3,h6,Bd2,Qd7,O-O,Bh3,Qc1,Bxg2,Kxg2,h5,h4,f6,Rb1,Nh6,Nh2,Nf5,a4,Ncd4,e3,Ne6,b5,a5,Nd5,Ne7,Bxa5,Nxd5,cxd5,Nc5,Qc2,g5,hxg5,Qf5,e4,Qxg5,Bxc7,Kd7,b6,Bb8,Bxb8,Raxb8,a5,h4,Nf3,Qg4,Rh1', 'h3+,Kg1,Qxf3', 'https://lichess.org/training/vETjd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('veUFn', 'Rapid', 'abomohamad222', 1918, 'WaisKamal', 2079, 'g3,d5,Bg2,Nf6,d3,e6,Nf3,c5,O-O,Nc6,Nbd2,Bd6,Re1,O-O,e4,dxe4,dxe4,e5,Nc4,Bc7,Bg5,Be6,Qxd8,Raxd8,Bxf6,gxf6,Ne3,Nd4,Nxd4,cxd4,Nf5,Bxf5,exf5,b5,Re4,Kh8,Rh4,Rg8,Bc6,a6,a4,b4,Bb7,a5,Bc6,Rd6,Bb5,Rg5,Bd3,Bb6,b3,Rc6,Re1,Rc3,f4,exf4,Re8+,Rg8,Rxg8+,Kxg8,Rxf4,Kf8,Rh4,Kg7,Re4,Kf8,g4,Bc7,Rxd4', 'Bb6,Kh1,Bxd4', 'https://lichess.org/training/veUFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vEuw7', 'Rapid', 'Ilya_Kamenev', 1734, 'gabrieleud', 1815, 'e4,e5,Nf3,f5,exf5,Bc5,Bc4,d5,Bb3,Bxf5,O-O,Nc6,d3,Nf6,Bg5,Qd6,Qd2,O-O-O,Re1,Ng4,Bxd8,Bxf2+,Kh1,Bxe1,Qxe1,e4,Qg3,Qxg3,hxg3,Nf2+,Kg1,exf3,Bg5,h6,Be3,Ng4,Bf2,Nxf2,Kxf2,fxg2,Bxd5,Nd4,Na3,Rf8,Kxg2,c6,Bb3,Nxb3,axb3,b5,Rf1', 'Bh3+,Kxh3,Rxf1', 'https://lichess.org/training/vEuw7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('veuwB', 'Rapid', 'takeda1573', 1815, 'Est357', 1659, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Na3,cxd4,cxd4,Bb4+,Bd2,Nxd4,Qa4+,Nc6,Bb5,Bxd2+,Nxd2,Bd7,Qg4,g6,Qg5,Qd4,O-O,Qxe5,Qxe5,Nxe5,Rac1,Ne7,Rc7,a6,Bxd7+,Nxd7,Rxb7,Rc8,h3,Nc5,Rb6,Rc6,Rb8+,Rc8', 'Rxc8+,Nxc8,Rc1,Kd7,Rxc5', 'https://lichess.org/training/veuwB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('veViy', 'Rapid', 'bonilima1', 1708, 'Alexis94AJA', 1742, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,a6,Ba4,Qd7,d4,exd4,cxd4,b5,Bc2,Bb7,O-O,O-O-O,d5,Ne5,a4,h5,axb5,axb5,Nxe5,dxe5,Qe2,Bc5,Be3,Bxe3,Qxe3,Nf6,h3,g5,Bd3,g4,h4,Nxd5,exd5,Qxd5,Bf5+,Rd7,Bxd7+,Kd8,f3,gxf3,Qxf3,Qd4+,Kh2,Bxf3,Rxf3,Qxh4+,Bh3,Ke7,Nc3,f6,Nd5+,Kd6,Nxf6,e4,Rd1+,Kc6,Rc3+,Kb7,Nd5,c6,Nb4,Qf4+,Kh1,Rh6,Rd7+,Kb6,Rd1,e3', 'Rxc6+,Rxc6,Nd5+,Ka5,Nxf4', 'https://lichess.org/training/veViy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VEXj8', 'Blitz', 'FM Punchableface', 2463, 'SergeiRK', 2488, 'd4,Nf6,Nc3,d5,Bg5,e6,e4,Bb4,e5,h6,Bh4,g5,Bg3,Ne4,Ne2,c5,a3,Ba5,dxc5,Nxc3,Nxc3,Bxc3+,bxc3,Qa5,Qd2,Nc6,h4,g4,Bd3,Bd7,Rb1,O-O-O,O-O,Qxc5,Rb3,Na5,Rb4,Nc4,Qe2,Nb6,Bf4,Bc6,Be3,Qxc3,Bxb6,axb6,Rxb6,Qc5,Rfb1,g3,Ba6,Kd7,Bxb7,Bxb7,Rxb7+,Ke8,a4,Rg8,Qf3,Rg7,c3,gxf2+,Qxf2,Qxc3,Qf6,Qg3', 'Qe7#', 'https://lichess.org/training/VEXj8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vEXSe', 'Rapid', 'yigg', 1755, 'rengaw7', 1752, 'e4,e6,d4,a6,Nc3,b5,a3,Bb7,f4,b4,axb4,Bxb4,e5,Qh4+,g3,Qe7,Nf3,Nc6,Be3,Nh6,Bd3,O-O,O-O,Ng4,Qe2,d5,h3,Nxe3,Qxe3,Nd8,Na4,c5,c3,cxd4,cxd4,a5,Rfc1,Bc6,Nc5,Qe8,f5,Bb5,Bxb5,Qxb5,f6,Nc6,fxg7,Rfc8,Nd7,Ne7,Nf6+,Kxg7,Qg5+,Ng6,h4,Qe2,Rxc8,Rxc8,Rf1,Rc2,Nh5+,Kg8,Qd8+,Nf8,Nf6+,Kg7,Nh5+,Kh8', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/vEXSe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VeYAk', 'Rapid', 'yakachoisir', 1804, 'Akbaraly', 1837, 'd4,d5,e3,c6,Bd3,Nf6,f4,Bg4,Nf3,Ne4,O-O,Bxf3,Qxf3,Nf6,Nd2,e6,c3,Be7,g4,O-O,g5,Ne8,Bxh7+,Kh8,Qh5,Bxg5,Bg6+,Bh6,Bxf7,Nf6,Qg6,Qe7,Bxe6,Qxe6,f5,Qxe3+,Kh1,Ne4,Nf3,Nf2+,Rxf2', 'Qxf2,Bxh6,Qxf3+', 'https://lichess.org/training/VeYAk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VEygV', 'Rapid', 'husamismail', 2016, 'Kocherginbobrik1972', 2033, 'd4,d5,c4,Bf5,Nc3,e6,Nf3,Bb4,e3,Nf6,a3,Bxc3+,bxc3,Ne4,Bb2,O-O,Bd3,dxc4,Bxc4,c5,O-O,Nc6,Qe2,a6,Rad1,b5,dxc5,Qc7,Ba2,Bg4,h3,Bh5,Bb1,f5,c4,Nxc5,cxb5,axb5,Ba1,Rxa3,Qb2,Bxf3,Qxa3,Bxd1,Rxd1,Ne5,Qc3,Ned7', 'Qxg7#', 'https://lichess.org/training/VEygV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VF13N', 'Classical', 'errei', 1892, 'kiszol', 1766, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,f3,O-O,Be2,d5,Nxc6,bxc6,e5,Nd7,f4,a5,O-O,Ba6,Rf2,Bxe2,Qxe2,Nb6,Bc5,Nc4,b3,Nb6,Rd1,Re8,Ne4,Qc7,Ng5,Nd7', 'e6,Nxc5,exf7+', 'https://lichess.org/training/VF13N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VF4zj', 'Blitz', 'FM Jazzyjef', 2523, 'GM Obiwankanoebi', 2532, 'e4,g6,d4,Bg7,c4,c5,d5,d6,Bd3,Nf6,f4,O-O,Nf3,Bg4,O-O,Nbd7,Nbd2,e6,h3,Bxf3,Nxf3,exd5,exd5,a6,Bd2,Re8,Qc2,Rb8,a4,Qc7,Rae1,b5,cxb5,axb5,Bxb5,Nxd5,Rxe8+,Rxe8,Qb3,N5f6,f5,d5,fxg6,hxg6,Ng5,c4,Qf3,Qc5+,Kh1,Re7,b4,cxb3,Qxb3,Ne5,Bb4,Qc7,Bxe7,Qxe7,Nf3,Nh5,Nxe5,Bxe5,Qxd5,Ng3+,Kg1,Qa7+,Rf2,Bd4,Qf3,Bxf2+,Qxf2,Qc7,Qf3,Qc5+,Kh2,Nf5,g4,Qe5+,Kg2', 'Nh4+,Kg1,Nxf3+', 'https://lichess.org/training/VF4zj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vf6nS', 'Blitz', 'CM vliegmachinist', 2340, 'tequilarock', 2114, 'd4,Nf6,Nf3,g6,c3,Bg7,Bg5,d5,Nbd2,O-O,e3,Nbd7,Be2,c5,O-O,b6,Ne5,Nxe5,dxe5,Nd7,c4,dxc4,e6,Ne5,exf7+,Rxf7,Nxc4,Be6,Nxe5,Bxe5,Bf3,Qxd1,Raxd1,Raf8,b3,Kg7,Bd5,Bxd5,Rxd5,Bd6,f3,Rf5,Rfd1,Rxd5,Rxd5,Rf5,Rxf5,gxf5,Kf2,Kg6,Bh4,e6,g3,a6,Ke2,b5,Kd3,Kf7,a4,Ke8,axb5,axb5,e4,Kd7,Bf6,Kc6,e5,Bf8,g4,fxg4,fxg4,Kd5,h4,c4+,bxc4+,bxc4+,Ke2,Bc5,g5,Ke4,h5,Kf5,Kd2,Bd4', 'g6,hxg6,h6', 'https://lichess.org/training/vf6nS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vf8et', 'Rapid', 'JigsawVIII', 1675, 'amir_tehrani', 1662, 'd4,d5,c4,e6,Nc3,h6,Qb3,a6,cxd5,exd5,Nxd5,Nc6,Bf4,Bd6,Qg3,Bxf4,Nxf4,Qxd4,Rd1,Qxb2,Nd3,Qc3+,Rd2,Be6,Nf3,Bxa2,Qxc7,Bb3,Nb2,Nf6,e3,O-O,Be2,Ne4,Qxb7,Rad8,Nd3,Nxd2,Nxd2,Rxd3,Bxd3,Qxd3,Qxc6,Rd8,Qc1,a5,Nxb3,Qxb3,O-O,a4,Qa1,Rd2,Rb1,Qc4,Rc1,Qe2,Qxa4', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/vf8et');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vf8HP', 'Bullet', 'csurfer111', 1684, 'sprrw', 1576, 'e4,c5,Nf3,Nc6,d4,d6,dxc5,Qa5+,Bd2,Qxc5,Nc3,Qb6,Rb1,Nf6,Bd3,e5,O-O,Bg4,h3,h5,hxg4,hxg4,Nh2,g3,Nf3,Ng4,Qe2,gxf2+,Rxf2,Nxf2,Qxf2,Qxf2+,Kxf2,O-O-O,Bc4,g5,Bxg5,Be7,Bxe7,Nxe7,Bxf7,Rdf8,Be6+,Kb8,Nd5,Nxd5,exd5,Rc8,c3,Rcf8,Rf1,Rh4,Ke3,Rhf4,Rf2,a6,b3,Kc7,c4,Kb6,g3,R4f6,g4,Rf4,Bf5,Kc5,Nd2,Rxf2,Kxf2,Kd4,Ke2,Kc3,a4,Kb4,Kd3,Rh8,Be4,Rh3+,Kc2,Rg3,Bf5,b5,axb5,axb5,cxb5,Kxb5,Ne4,Rg2+,Kc3,Rh2,Nxd6+,Kc5,Nf7,Kxd5,Kb4,e4,Bxe4+,Kxe4,g5,Rg2,Kb5,Kf5,b4,Ke6,Nd8+,Kd7,Nf7', 'Ke7,g6,Rxg6,Ne5,Rg5', 'https://lichess.org/training/Vf8HP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vF8mj', 'Classical', 'leo7788', 1655, 'Objj', 1663, 'e4,e5,Nf3,Nf6,Nc3,d6,Be2,Be7,d4,exd4,Nxd4,O-O,O-O,Re8,Bf4,Bd7,e5,dxe5,Bxe5,Nc6,Nf3,a6,Nd5,Nxd5,Qxd5,Be6,Qxd8,Raxd8,Bxc7,Rd7,Bb6,Bg4,h3,Bxf3,Bxf3,Ne5,Rfe1,Nxf3+,gxf3,h6,Re2,Rd6,Bc5,Rg6+,Kh2', 'Bd6+,Bxd6,Rxe2', 'https://lichess.org/training/vF8mj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VfACD', 'Blitz', 'Dihtbscii', 1953, 'Alfie_Solomons', 1969, 'e4,Nf6,Nc3,d5,exd5,Nxd5,g3,Nxc3,bxc3,c5,Bg2,Nc6,Ne2,Bg4,O-O,e6,Re1,Be7,h3,Bxe2,Qxe2,Qc7,Qc4,O-O,d4,cxd4,cxd4,Qb6,c3,e5,dxe5,Bc5,Be3,Bxe3,Rxe3,Qb2,Rae1,Na5,Qa4,Nc6,e6,fxe6,Rxe6,Qxc3,Bxc6,bxc6,Qxc6,Qd2,R6e2,Qd4,Kg2,Rac8,Qb7,Kh8,Re3,Rc2,R3e2,Rxf2+,Rxf2', 'Qxf2+,Kh1,Qxe1#', 'https://lichess.org/training/VfACD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VfaDz', 'Rapid', 'Dakshthexpert', 2322, 'FM anantone', 2358, 'c4,Nf6,Nc3,d6,d4,e5,d5,Bf5,f3,e4,fxe4,Nxe4,Nxe4,Bxe4,Nf3,Be7,Qd4,Bg6,Qxg7,Bf6,Qh6,Na6,Bg5,Nb4,Kf2,c6,Bxf6,Qxf6,Qe3+,Kd7,dxc6+,bxc6,Qc3,Qxc3,bxc3,Na6,Rd1,Rab8,g3,Rb2,Bg2,Re8,Rd2,Rxd2,Nxd2,Nc5,Nb3,Na4,Nd4,Be4,Bh3+,Kc7,Rc1,Rb8,Nb3,Bg6,Bg4,h5,Bf3,c5,Ke3,Nb2,Bd5,Re8+,Kd2,Kb6,Rf1,Re7,Nc1,Na4,Nd3,Kc7,Nf4,Nb6,Nxg6,fxg6,Bf7,h4,Kd3,hxg3,hxg3,g5,Bd5,Nd7,Rf5,Ne5+,Kc2,g4,Kd2,Rh7,Ke3,Rh2,Rf2,Rh3,Kf4,Rh8,Be6,Rb8,Bxg4,Rb2,Be6', 'Nd3+,exd3,Rxf2+', 'https://lichess.org/training/VfaDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vfazb', 'Rapid', 'Dr_Fork', 1683, 'Herizo', 1723, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Nc3,Bc5,d3,O-O,Qe2,d6,h3,Nd4,Nxd4,exd4,Nd5,Nxd5,Bxd5,c6,Bb3,Re8,Qf3,Be6,Qg3,Qf6,Re1,Bxb3,axb3,d5,Bf4,dxe4,Rxe4,Rxe4,dxe4,g5,Rd1,Rd8,c3,d3,h4', 'Qxf4,Qxf4,gxf4', 'https://lichess.org/training/vfazb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vfcG1', 'Blitz', 'hot63', 1691, 'Matej1230', 1721, 'e4,e6,Bc4,b6,Bb3,Bb7,Nf3,Bxe4,O-O,Qf6,Ne1,Bd6,d3,Bc6,Nc3,Ne7,Ne4,Bxe4,dxe4,Ng6,Qf3,O-O,Qxf6,gxf6,Bh6,Re8,Nf3,Nc6,c3,Bf4,Bxf4,Nxf4,Rad1,d6,c4,Nb4,a3,Nbd3,Rd2,Nc5,Bc2,a5,b4,axb4,axb4,Nb7,c5,bxc5,bxc5,Nxc5,Rc1,Ra3,Ne1,Kh8,g3,Nh3+,Kg2,Ng5,f3,f5,h4,fxe4,hxg5,exf3+,Nxf3,Rg8,Rh1,Rg7,Ne5,dxe5', 'Rd8+,Rg8,Rxh7#', 'https://lichess.org/training/vfcG1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vfDm4', 'Rapid', 'Alim_24', 1935, 'bergin', 2123, 'd4,Nf6,c4,c5,e3,g6,Nf3,Bg7,Bd3,O-O,Bd2,cxd4,exd4,d5,c5,Nc6,Bc3,Bg4,Be2,Ne4,Nbd2,Nxc3,bxc3,Qa5,Qb3,e6,O-O,Rab8,a4,Qc7,h3,Na5,Qc2,Bf5,Bd3,Bxd3,Qxd3,Rfe8,Rfb1,e5,Qe2,e4,Nh2,Qf4,Nhf1,Bh6,Ne3,Red8,Rb5,a6,Rxa5,Rbc8,Rb1,Qc7,Rb6,Bf4,c4,Bh2+,Kh1,Qb8,cxd5,Bc7,Nxe4,Bxb6,cxb6,Rc1+,Nf1,Qf4,Rc5,Ra1,a5,Kg7,Kg1,f5,g3,Qxe4,Qxe4,fxe4,Kg2,Rd7,Rc7,Rxc7', 'bxc7,Rc1,d6', 'https://lichess.org/training/vfDm4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vFeis', 'Rapid', 'zagorac2105', 1832, 'viktor_kulikovskiy', 1835, 'e4,e5,f4,d5,Nc3,Nf6,d3,Nc6,Nf3,Bb4,exd5,Nxd5,Bd2,O-O,Nxd5,Bxd2+,Qxd2,Qxd5,fxe5,Nxe5,Nxe5,Qxe5+,Kf2,Qxb2,Be2,Re8,Rhb1,Qd4+,Kf1,b6,Bf3,Rb8,c3,Qe3', 'Re1,Qe6,Rxe6', 'https://lichess.org/training/vFeis');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VFetQ', 'Rapid', 'Hernancandia', 1724, 'gantesque', 1932, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,cxd4,cxd4,Bd7,O-O,Rc8,a4,Nb4,a5,Qd8,Bd3,a6,Bd2,Nxd3,Bg5,Be7,Bxe7,Nxe7,Qxd3,Bb5,Qd1,Bxf1,Kxf1,O-O,Ng5,h6,Nh3,Qc7,Nc3,Qc4+,Kg1,Nf5,Ra4,Qc6,Ra1,Rc7,Nf4,Rfc8,Nh5,Qd7,Qg4,Rc4', 'Nf6+,Kh8,Nxd7', 'https://lichess.org/training/VFetQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VFGcr', 'Blitz', 'Tour10', 2036, 'Kn1ghtF3', 1978, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d6,e4,Nbd7,h3,c5,Be3,cxd4,Bxd4,O-O,Be2,a6,O-O,e6,e5,dxe5,Nxe5,Qc7,Nxd7,Bxd7,Bf3,Rad8,Qe2,Bc6,Rad1,Rd7,Qe3,Bxf3,Qxf3,Ne8,Bxg7,Nxg7,Ne4,Rxd1,Rxd1,Qxc4,Nf6+,Kh8,Nd7,Rd8,Qxf7,Qc2,Rd6,Qf5,Nf6,Rc8,Rd7,Rc1+,Kh2', 'Qf4+,g3,Qxf2#', 'https://lichess.org/training/VFGcr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VfGDI', 'Rapid', 'jjwakuk', 1896, 'baquara', 1880, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,h3,a6,d3,h6,Be3,Bxe3,fxe3,Na5,Bb3,Nxb3,axb3,f5,exf5,Bxf5,O-O,Ne7,e4,Bg6,d4,O-O,dxe5,dxe5,Nxe5,Rxf1+,Qxf1', 'Qd4+,Qf2,Qxe5', 'https://lichess.org/training/VfGDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vFHE9', 'Blitz', 'sandcreek', 1617, 'kmitch92', 1633, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,d3,O-O,Be3,Bxe3,fxe3,d6,Qe1,Ng4,Nbd2,Ne7,Qg3,Ng6,Bd5,Rb8,Rae1,Bd7,h3,Nf6,Bb3,c5,c4,Nh5,Qf2,bxc4,Nxc4,Be6,Na5,Qxa5,Ng5,Bxb3,axb3,Rb7,Ra1,Qd8,Rxa6,Qxg5,Rxd6,Rxb3,Rd7,Ne7,g4,c4,Kh2,Nf6,Rxe7,Nxe4', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/vFHE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vFidz', 'Rapid', 'folxc', 1894, 'scorpiones1453', 1627, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,Nc3,Be7,Nxe4,Nxd5,d4,O-O,c4,Nf6,Nxf6+,Bxf6,Be3,Re8,Qd2,c5,Rd1,Nc6,dxc5,Bg4,Qxd8,Nxd8,Be2,Ne6,b3,Rad8,Rxd8,Rxd8,O-O,Bc3,Rd1,Rxd1+,Bxd1,Bf5,h3,Bb1,a3,h6,Nd2,Ba2,c6,bxc6,Ne4,Bb2,a4,Bd4,g4,c5,Kf1,a5,Ke2,Bb1,Nd6,g5,Nb7,Bxe3,fxe3,f5,Kf3', 'Be4+,Kf2,Bxb7', 'https://lichess.org/training/vFidz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VfJ7o', 'Classical', 'amritheshunni', 1642, 'QamarM', 1644, 'e4,e5,d4,d5,exd5,Qxd5,Nc3,Bb4,a3,Bxc3+,bxc3,exd4,Qxd4,Be6,Qxg7,Qe4+,Ne2,Nc6,Qxh8,O-O-O,f3,Qg6,Nf4,Qxc2,Be2,Bb3,O-O,f6,Be3,Qxc3,Kf2,Nce7,Rac1,Bc2,g4,Nh6,Qg7,Neg8,Bd1,Rd2+,Bxd2,Qxd2+,Kg3,Qxc1,Bxc2,Qxf1,Bxh7,Qe1+,Kg2,Qd2+,Kh3,Qxf4,Bxg8,Qxf3+,Kh4,Qf2+,Kh5,Qxh2+,Kg6,Nxg4', 'Be6+,Kb8,Qf8#', 'https://lichess.org/training/VfJ7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VfKpS', 'Blitz', 'felixvankel', 1647, 'phlp87', 1708, 'c4,c5,Nc3,Nf6,e3,e6,Nge2,d5,cxd5,exd5,d4,c4,Ng3,Be6,Qa4+,Nbd7,h4,a6,Be2,b5,Qd1,Be7,Nh5,O-O,Nxf6+,Nxf6,g4,h6,g5,hxg5,hxg5,Nd7,e4,Bxg5,e5,Bxc1,Rxc1,Qa5,Qd2,b4,Nb1,Qxa2,Rg1,Kh8,Qxb4,Rab8,Qc3,Qxb2,Nd2,Qxc3,Rxc3,Rb2,Rh1+,Kg8,Bd1,Rfb8,Ba4,a5,Rch3,g6', 'Rh8+,Kg7,R1h7#', 'https://lichess.org/training/VfKpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vfl2o', 'Rapid', 'malatok', 1885, 'daca483', 1905, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,Bb5,Bd7,O-O,e6,c4,Qh5,d4,Nf6,d5,exd5,cxd5,Qxd5,Re1+,Be7,Qe2,Qe6,Bxc6,Qxe2', 'Bxd7+,Nxd7,Rxe2', 'https://lichess.org/training/Vfl2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VfL52', 'Blitz', 'LennyTheBoyy', 1661, 'i63l06ri5', 1702, 'a3,e5,b3,f5,Bb2,Nc6,Nf3,Nf6,Nxe5,Nxe5,Bxe5,d6,Bb2,Bd7,e3,Bc6,d4,Ne4,c4,Qh4,Qc2,O-O-O,d5,Bd7,Nc3,Rg8,Bd3,Re8,O-O,g5,Rae1,Bg7,f3,Nxc3,Bxc3,Bxc3,Qxc3,g4,fxg4,fxg4,Bf5,Bxf5,Rxf5,Rgf8,Rxf8,Rxf8,e4', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/VfL52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vFLbt', 'Rapid', 'constantine__evseev', 1938, 'checkmonk', 1975, 'e4,c5,Nf3,d6,Bb5+,Nc6,O-O,Nf6,Nc3,Bd7,Bxc6,Bxc6,e5,Nd5,Nxd5,Bxd5,d3,g6,exd6,Qxd6,c4,Bc6,Re1,Bg7,Rb1,O-O,a3,a5,Bg5,Rfe8,Bh4,Rad8,Re3,Rd7,Qe2,Bh6,Bg5', 'Bxf3,Rxf3,Bxg5', 'https://lichess.org/training/vFLbt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VfMaR', 'Blitz', 'osamawaheed1', 1930, 'zukinson', 1911, 'e4,c5,f4,e6,Nf3,Nf6,Bb5,Nxe4,Qe2,Nf6,f5,a6,Bc4,d5,Bb3,c4,Ba4+,b5,Bxb5+,axb5,Nd4,Ne4,fxe6,Qh4+,Kf1,fxe6,d3,Qf6+,Nf3,Nd6,Bg5,Qxb2,Ne5,Nd7,Qh5+,g6,Nxg6,hxg6', 'Qxg6+,Nf7,Qxe6+,Be7,Qxe7#', 'https://lichess.org/training/VfMaR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VFMdx', 'Blitz', 'ataca62', 1758, 'x_sKYlark_x', 1738, 'd4,d5,Nf3,Nf6,Bg5,c6,Bxf6,exf6,e3,Bd6,a3,Bf5,c4,dxc4,Bxc4,O-O,O-O,Nd7,Nbd2,Re8,Nh4,Bg6,Nxg6,hxg6,Qg4,g5,Ne4,Bc7,Qh5,Rxe4', 'Qxf7+,Kh8,Qh5#', 'https://lichess.org/training/VFMdx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vFNd5', 'Rapid', 'Aleking03', 2143, 'TheDevilOfTheHeaven', 2024, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,g3,Bb4,Bd2,Nf6,Bg2,O-O,O-O,Nc6,Nde2,b5,a3,Be7,h3,Bb7,Be3,d6,Qd2,Ne5,b3,Rac8,f4,Ned7,g4,Nc5,Bxc5,Qxc5+,Kh2,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,exd5,Rac1,Qxa3,Qxd5,Rfd8,Qe4,Re8,Qf3,Qb2,Qd3,Bc5,Rb1,Qf6,Ng3,Re3,Qd7,Rd8,Qb7,Rd2+,Kh1,Rxg3,Rf3,Rgg2,Qc8+,Bf8,Re1,Qd4,Rfe3,Qxf4', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/vFNd5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VFp8l', 'Rapid', 'ChessAsVladimir', 1682, 'Artem06_Champion', 1622, 'e4,c6,f4,d5,exd5,cxd5,Nf3,Nf6,Bb5+,Nc6,O-O,Bg4,h3,Bxf3,Qxf3', 'Qb6+,Kh1,Qxb5', 'https://lichess.org/training/VFp8l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vFpzr', 'Classical', 'kylo123', 1691, 'knightknight101', 1992, 'e4,e6,Nf3,d5,Nc3,d4,Ne2,c5,c3,Nf6,e5,Nfd7,cxd4,cxd4,Nexd4,Nxe5,Bb5+,Nec6,Nxc6,Nxc6,d4', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/vFpzr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VFQ0t', 'Rapid', 'andrzejch1', 1924, 'adechess', 1728, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qd6,Bc4,f6,O-O,Nc6,h3,Be6,Bxe6,Qxe6,d4,Qf7,d5,O-O-O,Be3,Qg6,Qe2,Nb4,Rfc1,Kb8,a3,Nxd5,Nxd5,Rxd5,c4,Rd8,b4,Qd3', 'Rd1,Qxd1+,Rxd1', 'https://lichess.org/training/VFQ0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vFqHf', 'Blitz', 'Dzeman74', 2148, 'Ocustopus', 2159, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,e6,Bd3,a6,O-O,b5,Bg5,Be7,Bxf6,Bxf6,Ne4,Qd8,c3,Bb7,Re1,O-O,a4,Be7,axb5,axb5,Rxa8,Bxa8,Bxb5,Qd5,c4,Qh5,Ba4,Rd8,Bc2,Nd7,d5,e5,Ng3,Qh6,Nf5,Qf6,Nxe7+,Qxe7,Qd3,g6,Qe3,Re8,Qh6,f5,Ng5,Nf6,Ne6,c6,Rxe5,Ng4,Qf4,Nxe5,Qxe5,cxd5,cxd5,Bxd5', 'Qxd5,Qxe6,Qxe6+,Rxe6,Bb3', 'https://lichess.org/training/vFqHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VfqPR', 'Rapid', 'gongo', 1965, 'pawner85729', 1886, 'd4,d5,Nf3,Nf6,c4,e6,a3,c5,e3,Nbd7,Nc3,cxd4,exd4,b6,Bf4,Bb7,Be2,Be7,Rc1,O-O,cxd5,Nxd5,Nxd5,Bxd5,O-O,Nf6,Rc7,Bd6,Bxd6,Qxd6,Qc2,Ng4,h3', 'Bxf3,hxg4,Bxe2', 'https://lichess.org/training/VfqPR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vFrGq', 'Rapid', 'EPchess', 1698, 'ArdillaArdiente', 1824, 'e4,e6,d4,d5,exd5,exd5,f4,Bd6,Nf3,c6,Bd3,Nd7,O-O,Ngf6,Re1+,Kf8,Ne5,h5,c4,h4,Nc3,Kg8,Qf3,Nh5,cxd5,Ndf6,h3,cxd5,Nxd5,Nxd5,Qxd5,Be6,Qxb7,Rb8,Qxa7,Rxb2,Bxb2,Nxf4,Be4,Nxh3+,gxh3,Qg5+,Kh2,Qg3+,Kh1,Qxh3+,Kg1,Qg3+,Kf1,Bxe5,dxe5,Bc4+,Re2,Qf4+,Ke1,Qg3+,Kd1,Bxe2+,Kxe2,Qg4+,Kd3,Qg3+,Kd4', 'Qf2+,Kd3,Qxa7', 'https://lichess.org/training/vFrGq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vfSXB', 'Blitz', 'jorgef1996', 2123, 'GM zonrobla', 2553, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be6,Be3,h5,Qd2,Nbd7,Nd5,Bxd5,exd5,g6,O-O-O,Bg7,h3,O-O,g4,Rc8,Bd3,Nxd5,gxh5,Nxe3,Qxe3,Qh4,hxg6', 'Bh6,Qxh6,Qxh6+', 'https://lichess.org/training/vfSXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VFuIJ', 'Rapid', 'konstans337', 1868, 'reichenbacher', 1815, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,e6,Nxc3,Bb4,Ne2,Ne7,O-O,b6,a3,Bxc3,Nxc3,Bb7,Bg5,f6,Bh4,d5,exd5,exd5,Bb5+,Nbc6,Re1,O-O,Rc1,a6,Ba4,Kh8,Ne2,b5,Bb3,Na5,Ba2,Nf5,Bg3,Nxg3,Nxg3,Qd7,Ne4,Rac8,Nc5,Qd6,Nxb7,Rxc1', 'Nxd6,Rxd1,Rxd1', 'https://lichess.org/training/VFuIJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VfWN2', 'Blitz', 'krkckaan', 1858, 'Betty_Swollocks', 1860, 'e4,c5,c3,Nc6,Nf3,e6,d4,cxd4,cxd4,Qc7,Nc3,d6,Be2,a6,O-O,b5,d5,Ne5,Re1,Nf6,Nxe5,dxe5,Bg5,Be7,Bxb5+,axb5,Nxb5,Qb6,d6,Qxb5,dxe7,Kxe7,Bxf6+,gxf6,Rc1,Ra7,a4,Qxa4', 'Rc7+,Bd7,b3,Rxc7,bxa4', 'https://lichess.org/training/VfWN2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vfWV9', 'Blitz', 'Boissombre', 1768, 'MaizenaFarineTime', 1773, 'd4,d5,c4,c5,cxd5,e6,Nc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Nxd5,e4,Nxc3,bxc3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bg7,Rc1,Bb7,d5,exd5,Bxd5,O-O,Nf3,Re8,O-O,Ra7,Re1,Ne5,Bxe5,Bxe5,Bxb7,Qxd1,Rexd1,Rxb7,Rd5,Bf4,Rcd1,Rxe4,Rxc5,Re2,g3,Bb8,Rd8+,Kg7,Rcc8,Ba7,Nd4,Rxa2,Rg8+,Kf6,Rc6+,Ke7,Rh8,b4,Rhxh6,bxc3,Nf5+,Kd7', 'Rhd6+,Ke8,Rc8#', 'https://lichess.org/training/vfWV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vG2qf', 'Rapid', 'roman599', 1647, 'TravyWumbo', 1679, 'e4,d5,exd5,Qxd5,Nc3,Qa5,a3,e6,d4,c6,Bd2,Qb6,Bc1,Nf6,f3,Nbd7,Na4,Qa5+,c3,b5,Nc5,Nxc5,dxc5,Bxc5', 'b4,Bxb4,cxb4', 'https://lichess.org/training/vG2qf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VG3qv', 'Blitz', 'FranzBartl', 1764, 'DarkosNIN', 1706, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,a3,Nf6,Nc3,Bc5,Nb3,Bb6,f3,d5,exd5,Nxd5,Nxd5,Qxd5,Bd3,a6,Qe2,Nd4,Nxd4,Qxd4,c3,Qh4+,g3,Qf6,Be3,Bxe3,Qxe3,b5,O-O,Bb7,Be4,Bxe4,fxe4,Qe5,Qd4,Qxd4+,cxd4,O-O-O,Rfd1,Rd7,Rac1+,Kb7,Rc3,Rhd8,Rcd3,e5,d5,f5,exf5,Kb6,Kf2,Kc5,Ke3,Rxd5,b4+,Kc4', 'Rc1#', 'https://lichess.org/training/VG3qv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vg8Hw', 'Rapid', 'charlesbenitez1', 1879, 'johanneswerhahn', 1800, 'e4,e6,d3,b6,Nd2,Bb7,Ngf3,c5,g3,Nf6,Bg2,Qc7,O-O,Nc6,Re1,Be7,c3,O-O,Nf1,Ne5,Nxe5,Qxe5,Bf3,Rad8', 'Bf4,Qxf4,gxf4', 'https://lichess.org/training/vg8Hw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VG96v', 'Blitz', 'existential_carousel', 1860, 'kalur', 1884, 'c4,e6,g3,d5,Bg2,Nf6,cxd5,exd5,d4,c6,Nc3,Bd6,e4,dxe4,Nxe4,Nxe4,Bxe4,O-O,Qh5,g6,Qd1,Re8,Qd3,f5,Ne2,Rxe4,Qb3+,Kg7,Be3,Qe7,O-O,Be6,Qc3,Na6,d5+,Be5,Bd4,Bxd5,Rfe1,Bxd4,Nxd4,Rxe1+,Rxe1,Qb4,Ne6+,Kh6,Qg7+,Kh5,Qxh7+,Kg4,Qh4+,Kf3,Qf4+,Qxf4,Nxf4,g5', 'Re3+,Kg4,h3#', 'https://lichess.org/training/VG96v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vg9XL', 'Rapid', 'Sensui', 1959, 'AlistairM', 1781, 'd4,c6,c4,d5,Nf3,Bg4,e3,Nf6,Nc3,e6,Be2,Bd6,O-O,Bc7,Qb3,Qd6,Ne5,Bxe2,Nxe2,Nbd7,f4,c5,Qxb7,O-O,Qb3,cxd4,exd4,dxc4,Nxc4,Qd5,Be3,Rab8,Qc2,Rfc8,b3,Nb6,Rac1,Nxc4,bxc4,Qh5,Ng3,Qg4,Qf2,Nh5,Nxh5,Qxh5,Qf3,Qh6,Rc2,Qg6,Rfc1,Bb6,c5,Ba5,d5,Rb1,d6', 'Qxc2,Rxb1,Qxb1+', 'https://lichess.org/training/vg9XL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VgaXj', 'Rapid', 'AryanKRaj', 1830, 'Figlo', 1842, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Bc5,e5,Ng8,Ng5,Nxe5,Re1,d6,f4,d3+,Kh1,dxc2,Qxc2,Be6,Nxe6,fxe6,fxe5,d5,Bd3,Bb6,Bxh7', 'Qh4,g3,Qxh7,Qxh7,Rxh7', 'https://lichess.org/training/VgaXj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vgCVJ', 'Rapid', 'cws03', 1878, 'giuseppebow', 1849, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,Ng5,d5,Bxd5,Nh6,Nxf7,Nxf7,Bxf7+,Kxf7,Qh5+,g6,Qxc5,Re8,O-O,Rxe4,Bg5,Qe8,Nd2', 'Re5,Qa3,Rxg5', 'https://lichess.org/training/vgCVJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VGEf6', 'Rapid', 'Element00', 1904, 'catalan-selocan', 1781, 'd4,d5,c4,c6,e3,f5,Nf3,e6,Ne5,Nf6,g4,Be7,g5,Nfd7', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/VGEf6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vgenf', 'Blitz', 'Arturito_Cegaton', 1870, 'krav_maga10', 1886, 'c4,e5,Nc3,Bc5,g3,Nf6,Bg2,c6,d3,d5,cxd5,cxd5,Bg5,d4,Ne4,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Nf3,Bg4,h3,Bh5,O-O,Nc6,Rc1,O-O,a3,a6,b4,b5,Rc5,Rfe8,Qc2,Rac8,Rc1,Ne7,g4,Bg6,Nd2,Qd6,Ne4,Bxe4,Bxe4,g6,Kg2,Kg7,Bb7,Rxc5,Qxc5,Qf6,Be4,Rc8,Qxc8,Nxc8,Rxc8,Qe6,Rc6,Qb3,Rxa6,Qa2,Ra7,Qxe2,Bd5,Qxd3,Bxf7,Kh6,Bg8,Qe4+,f3,Qe2+,Kg3,Kg5,Rf7,h5', 'h4+,Kh6,g5#', 'https://lichess.org/training/vgenf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vGERD', 'Rapid', 'renovell', 1703, 'Golden_Stance', 1673, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bc5,Bxc6,dxc6,Nxe5,Qd4,Nd3,Bb6,e5,Nd5,O-O,Be6,Nxd5,Bxd5,c3,Qe4,Qf3,Qg6,Qg3,Qxg3,hxg3,O-O-O,Nf4,g5,Ne2,h5,d4,g4,Nf4,h4,Nxd5,Rxd5,Bf4,c5,Rfd1,cxd4,c4,Rd7,Rd3,c5,f3,gxf3,gxf3,hxg3,Bxg3,Rg8,Kf2,f5,f4,Rh7,Rg1,Rgh8,Rg2,Rh1,Rg1,R8h3,Rxh1,Rxh1,Kg2,Rb1,Bh4,Rxb2+,Kg3,Rxa2,e6,Bd8,Bxd8,Kxd8,Rd1,Ra3+,Kh4,Re3,Kg5,Ke7,Kxf5,Rxe6,Ra1,a6,Rb1,b6,Kg5,a5,f5,Re5,Kg6,d3', 'f6+,Kd7,f7,Re6+,Kg7', 'https://lichess.org/training/vGERD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vGf48', 'Rapid', 'tm-ba', 1898, 'Korlemeciii', 1878, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,d5,e6,c4,exd5,cxd5,Bd6,Nf3,Nd7,Bb2,O-O,Bd3,Re8,O-O,Ne5,Nxe5,Bxe5,Bxe5,Rxe5,f4,Re8,f5,Qb6,Kh1,g6,fxg6,hxg6,Qf3,Re7,e5,c4,d6,cxd3,dxe7,Bf5,g4,Be6,Qxd3,Qc6+,Kg1,Qc5+,Rf2,Qxe7,Qf3,Qg5,h3,Qxe5,Raf1,Rc8,Qxb7,Rc3,Qxa7,Qg3+,Rg2,Qxh3,Qb8+,Kg7,Qe5+,Kg8,Rh2', 'Rg3+,Qxg3,Qxg3+', 'https://lichess.org/training/vGf48');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VgIBM', 'Rapid', 'warxcc', 1845, 'racastrasni', 1617, 'd4,d5,c4,g6,Nc3,c6,cxd5,cxd5,e3,Bg7,Bb5+,Bd7,Qb3,Bxb5,Qxb5+,Nc6,Qxd5,Qd6,Qxd6,exd6,Nb5,Kd7,b3,a6,Nc3,Nge7,Ba3,Rhc8,Nge2,Na5,O-O,b5,Ne4,Rc6,Rac1,Rac8,Rxc6,Rxc6,Rc1,f5,Rxc6,Naxc6,Nxd6,b4,Bb2,Kxd6,Nf4,Nd5,Nd3,Nc3,Bxc3,bxc3,Kf1,Kd5,Ke2,a5,Kd1,Ke4,Kc2,Nb4+,Nxb4,axb4,h3,g5,a4,h5,a5,Bf8', 'a6,Kd5,a7', 'https://lichess.org/training/VgIBM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vGJ0B', 'Rapid', 'OLYMPIAKOSCLUB', 1875, 'cucullo', 1635, 'Nf3,b6,e4,Bb7,Nc3,g6,d4,Bg7,Bb5,a6,Bc4,b5,Bd3,Nc6,Be3,e6,O-O,Nge7,e5,O-O,a4,bxa4,Rxa4,d6,Bf4,dxe5,dxe5,Nd5,Nxd5,Qxd5,Qe2,Ne7,Bxa6,Nf5,Bxb7,Qxb7,Rxa8,Rxa8,Bc1,h5,Rd1,Rc8,Qc4,Qb6,Rd7,Bf8,Ng5,Be7,b3,Kf8,Nh7+,Ke8,Qa4,c6,Rd3,Qc5,Qe4,Qxc2', 'Rd8+,Kxd8,Qxc2', 'https://lichess.org/training/vGJ0B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VGkf6', 'Rapid', 'kevin1a', 1832, 'Ipsolon', 1796, 'c4,Nf6,g3,g6,Bg2,Bg7,d4,e6,Nc3,O-O,Nf3,d5,c5,b6,b4,a5,b5,bxc5,dxc5,c6,b6,Nbd7,Na4,Ba6,Nd4,Bb5,Rb1,e5,Nxc6,Bxc6,O-O,Bxa4,Qxa4,Nxc5,Qb5,Nb7,Rd1,e4,Bg5,Rc8,Bxf6,Bxf6,Rxd5,Qe7,Rd7,Qe8', 'Rxb7,Rc1+,Bf1,Rxb1,Qxb1', 'https://lichess.org/training/VGkf6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VglqN', 'Rapid', 'marabia', 1637, 'Christop987654321', 1622, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,h6,h3,d6,d3,Be6,Nd5,Qd7,c3,Bxh3,Nxf6+,gxf6,d4,Bxg2,Kxg2,Rg8+,Kh2,Qg4,Rg1', 'Qh5+,Nh4,Qxh4#', 'https://lichess.org/training/VglqN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vGNJ4', 'Rapid', 'PrimitiveAnarchyTr', 1840, 'Ajiwetaka99', 1836, 'e4,e5,Nf3,d6,Bc4,Nf6,d3,Nc6,Bg5,Be7,Nc3,a6,Nd5,Nxd5,Bxd5', 'Bxg5,Bxc6+,bxc6', 'https://lichess.org/training/vGNJ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vgnkq', 'Rapid', 'gameofallgames', 1876, 'Espenasole', 1882, 'b4,e5,Bb2,Bxb4,Bxe5,Nf6,e3,d5,Nf3,Nc6,Bb2,Bg4,Be2,Qd7,a3,Bd6,c4,dxc4,Bxc4,O-O-O,Bb5,h5,h3,Bxf3,Qxf3,a6,Bc4,Ne5,Qe2,b5,Bb3,Ne4,Bxe5,Bxe5,d4,Ng3,fxg3,Bxg3+,Kd2,c5,Rc1,c4,Bc2,Rhe8,Nc3,g5,Qf3,Rxe3,Qxe3', 'Bf4,Qxf4,gxf4', 'https://lichess.org/training/vgnkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vgo5x', 'Rapid', 'mnarrueb', 1695, 'Kanbera', 1711, 'e4,c6,d3,d5,Nd2,a6,g3,e6,Bg2,b5,Ngf3,Nd7,O-O,Bb7,c3,Qb6,Ng5,Ngf6,Nb3,Be7,Be3,Qc7,d4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bg2,O-O,Nc5,Bxc5,dxc5,Rfd8,Qe2,Nd5,Bd4,Qe7,Bxd5,cxd5,Rae1,a5,f4,b4,f5,Ba6,Qe5,f6,Qxe6+,Qxe6,Rxe6,Bxf1,Kxf1,Re8,Rd6,Rad8,Rxd8,Rxd8,Ke2,bxc3,Bxc3,a4,Kd3,Kf7,b4,axb3,axb3,Rc8,b4,Ke7,Kd4,Rd8,c6,Kd6,b5,Rb8,Bb4+,Kc7,Kc5,d4,Ba5+,Kc8,b6,d3,Kd6,d2', 'b7+,Rxb7,cxb7+,Kxb7,Bxd2', 'https://lichess.org/training/Vgo5x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vGpV5', 'Rapid', 'modusoperand', 1747, 'Tuurbina', 1793, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,Nbd7,e3,Be7,Bd3,h6,Bh4,a6,O-O,Nb6,cxd5,Nbxd5,e4,Nf4,Bc2,O-O,e5,N6d5,Bxe7,Qxe7,a3,Bd7,b4,b5,Nxd5,Nxd5,Ne1,f5,Nd3,f4,Nc5,Bc8,Qd3,Rf5,Rac1,Qg5,Ne4,Qg4,Nd6', 'f3,Qxf3,Rxf3', 'https://lichess.org/training/vGpV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vGPwp', 'Rapid', 'fabiospampinato', 1922, 'conormcgregor', 1993, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nf3,Bg4,Be2,Qb6,Qb3,Qxb3,axb3,cxd4,exd4,e6,Ne5,Bxe2,Kxe2,Nxe5,Bxe5,Be7,h3,Nd7,Bg3,a6,Nd2,O-O-O,b4,Nb6,Ra5,Bg5,f4,Be7,b5,axb5,Rxb5,Kc7,Ra1,Kc6,Rba5,Ra8,Nf3,Rxa5,Rxa5,Nc4,Ra2,f6,Bh2,b5,b3,Nd6,Nd2,h5,Ra7,Bf8,Ra6+,Kb7,Ra5,f5,Bg3,Kb6,Ra8,h4,Bf2,Kb7,Ra5,Be7,Kf3,Kb6,Ra1,g5,Be3,g4+,hxg4,fxg4+,Kxg4,Rg8+,Kf3,Rg3+,Kf2,b4,c4,Nf5,c5+,Kb7,Nf1,Rg4,Ra4,Nxe3,Nxe3', 'Rxf4+,Ke2,Rxd4', 'https://lichess.org/training/vGPwp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VgriQ', 'Rapid', 'Oriana-te-gana', 1854, 'lautyademar', 1853, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,a6,Bxc6,Bxc6,Re1,e5,d4,cxd4,cxd4,exd4,Qxd4,Nf6,Nc3,Be7,Bf4,O-O,Rad1,Ne8,Nd2,Qc7,Nc4,Rd8,Nb6,Bf6,Qe3,Bxc3,bxc3,Nf6,Nd5,Bxd5,exd5,Rfe8,Qd4,Qa5,Qd2,Qxd5,Qxd5,Nxd5,Bd2,Rxe1+,Rxe1,f6,c4,Nc7,Ba5,Re8,Kf1,Rxe1+,Kxe1,Ne6,Kd2,Kf7,Bb4,Nc5,Bxc5,dxc5,Kc3,Ke6,Kd3,Ke5,a4,b6,Ke3,f5,Kd3,g5,Ke3,h5,f3,f4+,Kd3,g4,Kc3,g3,hxg3,fxg3,Kd3,h4,Ke3,a5,f4+,Kf5,Kf3,Kf6,Kg4,Kg6,Kxh4,Kf5,Kxg3,Ke6,Kh4,b5,cxb5,c4,b6,Kd7,Kg3', 'c3,Kf2,c2,b7,Kc7', 'https://lichess.org/training/VgriQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VGROg', 'Classical', 'McBagel', 1643, 'Sorbon123', 1683, 'd4,d5,c4,dxc4,e4,Nc6,Nf3,Bg4,d5,Ne5,Be2,e6', 'Nxe5', 'https://lichess.org/training/VGROg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VGS5Q', 'Rapid', 'Sipo', 1705, 'Baptist', 1660, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nc6,Bb5,Bd7,Qe2,e6,O-O,Bd6,d3,Nf6,Ne4,Nxe4,Qxe4,a6,Ba4,b5,Bb3,O-O,Nd4,f5,Qe3,Ne5,h3,h6,Nf3,f4,Qe4,Qf6,Nxe5,Bxe5,Re1,Bxb2,Bxb2,Qxb2,Rab1,Qf6,Bxe6+,Bxe6,Qxe6+,Qxe6,Rxe6,Rae8,Rxe8,Rxe8,Kh2,Re2,c4,c6,cxb5,cxb5,a4,bxa4,Rb8+,Kf7,Ra8,Rxf2,Rxa6,Ra2,d4,a3,d5,Ke7,d6+,Kd7,h4,g5,Kh3,g4+,Kxg4,Rxg2+,Kxf4,a2,Ke5,h5,Ra7+,Kd8,Ke6,Re2+,Kf6,Rd2,Kg5,Rxd6,Kxh5,Rd2,Kh6,Ke8,h5,Kf8,Kh7', 'Rd7+,Rxd7,a1=Q', 'https://lichess.org/training/VGS5Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VgSu2', 'Rapid', 'eurosaldi', 1894, 'Meliodesuwa', 2022, 'd4,e6,a3,Nf6,h3,c5,Nf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bg5,Qa5+,Bd2,Qe5,Nc3,Ba6,f4,Qh5,e3', 'Qh4+,g3,Qxg3#', 'https://lichess.org/training/VgSu2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vGTbj', 'Classical', 'zugzwank', 1914, 'david-innes', 1935, 'e4,e5,Nf3,Nc6,Bb5,Nge7,Nc3,d6,h3,Bd7,O-O,h6,d3,Ng6,Re1,Be7,Be3,Bg5,Nd5,Bxe3,Nxe3,Nf4,Qd2,Qf6,Nd5,Nxd5,exd5,Ne7,Bxd7+,Kxd7,c4,c6,dxc6+,bxc6,d4,exd4,Nxd4,Rab8,Re3,c5,Nb5,a6,Nc3,Nc6,Nd5,Qxb2,Qc3,Qxc3,Nxc3,Rhe8,Nd5,Rxe3,Nxe3,Rb2,a4,a5,Nf5,g6,Nxh6,f5,g4,Ne7,Kg2,Rb4,gxf5,gxf5,h4,Rxc4,h5,Rh4,Nf7,Rxh5,Kf3,Ke6,Nd8+,Kf6,Nb7,Nc6,Nxd6,Nd4+,Kg3,Rg5+,Kh3,Rg4,Nb7,Nc2,Rc1,Rc4,Nxa5,Rc3+,Kg2', 'Ne3+,fxe3,Rxc1', 'https://lichess.org/training/vGTbj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VGUju', 'Classical', 'Nilarnab', 1897, 'Verdikins', 1811, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nb3,Be7,O-O,d5,f4,dxe4,Nxe4,Nxe4,Bxe4,Nd7,fxe5,O-O,Bf4,Qb6+,Kh1,Nc5,Nxc5,Bxc5,Qh5,h6,Bxh6', 'Qxh6,Qxh6,gxh6', 'https://lichess.org/training/VGUju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VgVal', 'Rapid', 'panradiologist', 1774, 'neca1301', 1781, 'e4,e6,d4,d5,Nd2,Nf6,Bd3,dxe4,Nxe4,Nc6,c3,Nxe4,Bxe4,Bd6,Qh5,g6,Qf3,Bd7,Ne2,f5,Bd3,Qh4,Bf4,Bxf4,Nxf4,g5,Qh3,Qxf4,Qh5+,Kd8,O-O,Qd6,Qxg5+,Qe7,Qd2,Rg8,Rfe1,Qg5,f4,Qg6,Re2,Ne7,a4,Bc6,b4,Be4,Bxe4,fxe4,Rae1,Nd5,Rxe4,Re8,f5,Qg8,Rxe6,Rxe6,Rxe6,Kd7,Qd3,Re8', 'Qb5+,c6,Qxb7+,Nc7,Qxc6+', 'https://lichess.org/training/VgVal');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vGVFX', 'Classical', 'uzvara', 1707, 'RedPimpernel', 1780, 'e4,d5,e5,g6,d4,Bg7,Nf3,f6,exf6,Nxf6,Ne5,O-O,c4,Nc6,cxd5,Nxd5,Bc4,Nxe5,dxe5,e6,Nc3,Qh4,Qe2,Nxc3,bxc3,Bxe5,Qxe5', 'Qxf2+,Kd1,Rd8+', 'https://lichess.org/training/vGVFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vgvTw', 'Rapid', 'merab_archvadze', 2255, 'elvin96', 2171, 'e4,e6,d4,d5,e5,c5,Qg4,cxd4,Nf3,Nc6,Bd3,Nge7,O-O,Ng6,Re1,Bc5,h4,f5,Qg3,O-O,h5,Nge7,Bh6,Rf7,Ng5,gxh6', 'Nxe6+,Kh8,Nxd8', 'https://lichess.org/training/vgvTw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vgWF4', 'Rapid', 'ReimundWolf', 1831, 'KingJorge_99', 1783, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nb5,Nf6,Nd6+,Bxd6,Qxd6,Qe7,e5,Qxd6,exd6,O-O,Nc3,Nd4,Bd3,b6,Be3,Nf5,Bxf5,exf5,O-O-O,Bb7,f3,Rfe8,Rhe1,Re6,Bg5,Rxe1,Rxe1,Nd5,Nxd5,Bxd5,b3,Be6,Be7,a5,Re3,f6,Rc3,h6,Rc7,a4,Rb7,axb3,axb3,Rc8,Kd2,Rc6,c4,Kf7,Kd3,g5,Rc7,Rc5,b4,Re5,c5,bxc5,bxc5,Rd5+,Kc3,g4,f4,Rd1,Kc2,Rh1,c6,Rxh2,cxd7,Rxg2+,Kd3,Bxd7,Rxd7,Rf2,Rd8,g3,Rf8+,Ke6,Rxf6+,Kd7,Rxf5', 'g2,Rf7,g1=Q', 'https://lichess.org/training/vgWF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VGwjr', 'Rapid', 'donni1111', 2027, 'tan_mus', 2047, 'e4,e5,d4,Nc6,d5,Nce7,Nc3,d6,Be3,c6,Bc4,cxd5,Nxd5,Nxd5,Qxd5,Qc7,O-O-O,Nf6,Bb5+,Bd7,Qb3,Nxe4,Bc4,Bf5,Qa4+,Ke7,Nf3,Nc5,Qb5,Rc8,Rhe1,a6,Qb4,b5,Nxe5,dxe5,Bxc5+,Qxc5', 'Rxe5+,Kf6,Rxc5', 'https://lichess.org/training/VGwjr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VGwK8', 'Rapid', 'Kingcastel', 2032, 'Bilal5337', 2059, 'e4,c5,Nf3,e6,Nc3,Nc6,d4,cxd4,Nxd4,Nf6,a3,a6,Be2,Bc5,Nxc6,bxc6,O-O,d5,Bd3,Bd6,Bg5,h6,Bh4,O-O,Qe2,Be7,e5,Nd7,Bxe7,Qxe7,Na4,c5,c4,d4', 'Qe4,g6,Qxa8', 'https://lichess.org/training/VGwK8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VGxk8', 'Classical', 'Golkis85', 1902, 'Cybertiger2000', 1898, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Bg7,Be3,O-O,O-O,Nc6,f4,Nd7,f5,Nc5,Qd2,Bd7,Nxc6,Bxc6,Bh6,Nxe4,Nxe4,Bxe4', 'Bxg7,Kxg7,Qd4+,f6,Qxe4', 'https://lichess.org/training/VGxk8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vGY91', 'Rapid', 'rusemobile', 1732, 'Ivanhoe123', 1870, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Nf3,Bg4,h3,Bh5,g4,Bg6,Bxg6,hxg6,Nc3,Nxg4,Bf4,e6,Ng5,Nf6,Qd2,Bb4,O-O-O,Nc6,Qd3,Bxc3,Qxc3,Rc8,Rhe1,Qb6,Nxe6,fxe6,Rxe6+,Kf7,Rde1,Ne4,R6xe4,dxe4', 'Qc4+,Kf8,Bd6+', 'https://lichess.org/training/vGY91');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vgZIu', 'Rapid', 'Brauliosr10', 1941, 'joseriquelmer', 1965, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,c6,f4,O-O,Nf3,d5,cxd5,cxd5,e5,Ne4,Bd3,Nxc3,bxc3,Bg4,O-O,f6,h3,Bxf3,Rxf3,fxe5,fxe5,Rxf3,Qxf3,Qb6,Ba3,Nc6,Qxd5+,Kh8,Rf1,Bxe5,Bc5,Qb2,dxe5,Qxc3,Bb5,Rd8,Qxd8+,Nxd8,Bxe7,Qxe5', 'Bf6+,Qxf6,Rxf6', 'https://lichess.org/training/vgZIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VGZvk', 'Rapid', 'JMathnov', 1892, 'ykt53', 1813, 'd4,Nf6,c4,e6,Bg5,c5,d5,h6,Bh4,Be7,d6,Bf8,e4,g5,Bg3,Nxe4,Be5,Rh7,Qf3,Nxd6,Bd3,f5,g4,Nc6,Bxd6,Bxd6,gxf5,Ne5,Qh5+,Kf8,Bc2,Qf6,Nd2,exf5,O-O-O,Ng4,Nh3,Be5,Rde1,Bxb2+,Kb1,Ba1', 'Qe8+,Kg7,Re7+,Qxe7,Qxe7+', 'https://lichess.org/training/VGZvk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vH12l', 'Bullet', 'hona123', 1905, 'hotgirl69', 1986, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,h6,Ngxe4,Nxe4,Nxe4,Bf5,Ng3,Bg6,d3,e6,Be2,c6,h4,Bd6,h5,Bh7,Ne4,Bc7,Be3,Nd7,Qd2,Nf6,Nxf6+,Qxf6,O-O-O,O-O-O,g4,Be4,Rhg1,Bf3,g5,Qf5,Bxf3,Qxf3,gxh6,gxh6,Bxh6', 'Rxh6,Qxh6,Bf4+,Qxf4,Qxf4+', 'https://lichess.org/training/vH12l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vh2zX', 'Rapid', 'racingclub', 1764, 'pooi', 1624, 'e4,c5,Qf3,Nc6,c3,e5,d3,Nf6,h3,Be7,Be2,O-O,Qg3,Re8,h4,d6,h5,b5,h6,g6,Nf3,Bg4,Bf1,a5,Rh4,Bh5,Ng5,b4,f3,Nd7,Rh1,Bxg5,Bxg5,f6,Bc1,bxc3,bxc3,a4,Rxh5,a3,Rh1,Qa5,Be2,Qa4,Bd1,Qb5,Bxa3,Qxd3,Be2,Qe3,Bb2,Reb8,Ba3,Rxa3,Nxa3,Qxc3+,Kf2,Qxa3,Qh3,Nf8,Rhd1,Qb2,Rac1,Nd4,Rxd4,cxd4,Rc8,Kf7,Rc7+,Kg8,Rc8,Qb7,Rxf8+,Kxf8,Qe6,Qe7,Qd5,Rd8,Bc4,Ke8,Qg8+,Kd7,Qd5,Rb8,Bb5+,Kc7,Qc6+,Kd8,Qd5,Kc7,Bc6,Rb6,Bb5,Kb8,a4,Ka7,a5,Rb8,Bc6,Rb2+,Kg3,f5,f4,exf4+,Kf3,g5', 'Qxd4+,Ka6,Qxb2', 'https://lichess.org/training/Vh2zX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vH84g', 'Rapid', 'Evgenik1984', 1766, 'Trenink123', 1835, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Nf3,h6,h3,Bd6,Ne5,Qe7,f4,c6,Bd3,Nfd7,O-O,Nxe5,fxe5,Bc7,Qh5,Be6,Rf3,Nd7,Bg5', 'Qxg5,Qxg5,hxg5', 'https://lichess.org/training/vH84g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VH8EK', 'Rapid', 'haghaei', 1741, 'Pentamerone', 1762, 'd4,b6,e4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Bxc3+,bxc3,Nf6,Bg5,h6,Bxf6,gxf6,O-O,Rg8,h3,Nc6,Qe2,Qe7,Rfe1,O-O-O,d5,Ne5,Nxe5,fxe5,dxe6,fxe6,Qh5,Qg7,g3,Rdf8,Re2,Rf6,Re3,Rg6,g4,Rg5,Qh4,h5,Rg3,hxg4,Rxg4,Rxg4+,hxg4,Rh8,Qg3,Qg5,Rd1,a5,Kg2,Kb8,f3,Ka7,Rh1', 'Qd2+,Qf2,Qxf2+,Kxf2,Rxh1', 'https://lichess.org/training/VH8EK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vH8qb', 'Classical', 'Mubinn20', 1684, 'figa1978', 1696, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nxc3,Be7,Qf3,Nf6,Nd5,O-O,Bg5,Nxd5,Bh6,gxh6,Bxd5,Be6,Bxe6,fxe6,Qg3+,Kh8,Rc1,Rxf2,Qxf2,Bh4,g3,Bg5,Rc2,Nc6,h4,Nb4', 'Qd4+,Qf6,Qxb4', 'https://lichess.org/training/vH8qb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHB5J', 'Rapid', 'Anoosha', 1713, 'dawsofield', 1800, 'd4,Nf6,Bf4,d5,Nc3,a6,h3,e6,a3,c5,dxc5,Bxc5,e3,O-O,Nf3,Nbd7,Bd3,Re8,O-O,e5,Bg5,h6,Bxf6,Nxf6,Nd2,b5,b4,Bb6,Nb3,Bb7,Be2,Rc8,Na2,Ne4,Bf3,d4,exd4,Bxd4,Nxd4,Qxd4,Qxd4,exd4,Rfd1,Rxc2,Rxd4,Nxf2,Bxb7,Ree2,Bd5,Kh7,Bxf7,Nxh3+,gxh3,Rg2+,Kh1,Rh2+,Kg1,Rcg2+,Kf1,Rf2+,Kg1,Rfg2+,Kf1,Rb2,Kg1,Rhg2+,Kh1,Rh2+,Kg1,Rbg2+,Kf1,Rf2+,Kg1,Rhg2+,Kh1,Rh2+,Kg1,Rfg2+,Kf1,Rb2,Rg4,Rhf2+,Kg1,Rxf7,Nc3,Rff2,Nd5,Rfd2,Nf4,Rdc2,Nh5,Rc7,Nf4,Rb3,Kh2,Rf7,Nd5,Rb2+,Kg3,Rbf2,Rg1', 'R7f3+,Kh4,g5+,Rxg5,hxg5+', 'https://lichess.org/training/vHB5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHBQA', 'Blitz', 'Ocinitram', 2452, 'FM dbestsmiles', 2479, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Qf6,c3,Nge7,d4,exd4,Bg5,Qg6,Bxe7,Nxe7,cxd4,Bb6,Nc3,O-O,Bd3,d6,e5,Qh6,Ne2,Bg4,Ng3,dxe5,dxe5,Rad8,Qe2,Ng6,Bxg6,fxg6', 'Qc4+,Kh8,Qxg4', 'https://lichess.org/training/vHBQA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VHbtS', 'Rapid', 'Ryuk_Shinigami', 1945, 'MdNazar', 1960, 'e4,e5,Nf3,Nc6,d4,d6,Bb5,Bd7,Nc3,Nf6,Bg5,Be7,dxe5,Nxe5,Nxe5,Bxb5,Bxf6,Bxf6,Nxb5,Bxe5,f4,Bxb2,Rb1,Bf6,Qd5,c6', 'Nxd6+,Qxd6,Qxd6', 'https://lichess.org/training/VHbtS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VHDDi', 'Rapid', 'Almendrita7w7Mokewa', 1631, 'AnthonyChessPro', 1812, 'e4,e6,c4,Nc6,Nc3,Nf6,Nf3,Bb4,a3,Bxc3,dxc3,Nxe4,Bd3,Nf6,Bg5,h6,Bxf6,Qxf6,O-O,O-O,Qc2,Kh8,Bh7,g6,Bxg6,fxg6,Nh4,Qxh4,Qxg6,Qg5,Qe4,Ne5,h4,Qg6,Qxe5+,Kh7,Qxc7,Rf7,Qg3,Qxg3,fxg3,Rxf1+,Rxf1,Kg7,g4,d5,cxd5,exd5,g5,hxg5,hxg5,Bg4,Kh2,Rh8+,Kg3,Bh5,b4,Re8,Kh4,Bg6,Rd1,Re4+,Kg3,Re3+,Kf4,Rxc3,Rxd5,Rxa3,Rd7+,Bf7,Rxb7,Kg6,g4,Bd5,Rd7,Rf3+,Ke5,Bc4,Rxa7,Kxg5,Rg7+,Kh6,Rc7,Bf1,Rb7,Rg3,Kf4,Rc3,Kf5,Be2', 'g5+,Kh5,Rh7#', 'https://lichess.org/training/VHDDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VHeRu', 'Rapid', 'Metakarpov', 1637, 'DonQui99', 1698, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,Bg5,Be7,d4,c6,Bd3,Bg4,h3,Bxf3,Qxf3,Nbd7,O-O,O-O,Be3,Nd5,Qe4,N7f6,Qf3,Nxe3,fxe3,d5,e4,dxe4,Bxe4,Nxe4,Qxe4,Bf6,c3,Qb6,Qc2,c5,d5,c4+,Kh1,Rad8,Rd1,Rfe8,Na3,Qc5,b4,cxb3,Qxb3,b6,Rac1,Re5,c4,Re3,Rd3,Re2,Nb5,Qf2,Rg1,Rxa2,Rf3,Qe2,Nc3,Rb2', 'Nxe2,Rxb3,Rxb3', 'https://lichess.org/training/VHeRu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VHgo3', 'Rapid', 'Wingwood', 2081, 'LunetaPark', 2093, 'e4,c6,d4,d5,Nc3,dxe4,f3,Nd7,fxe4,g6,Nf3,Bg7,Bc4,Ngf6,e5,Nd5,Bxd5,cxd5,Nxd5,Qa5+,Nc3,Nb6,O-O,Bg4,Bd2,Nc4,b3,Bxf3,Rxf3,Nxd2,Qxd2,O-O,Ne4,Qd5,Qd3,Rad8,Rd1,a5,c4,Qd7,Nc5,Qc6,Qe3,b6,Na4,e6,Nc3,a4,d5,exd5,Rxd5,Rde8,Nxa4,f6,Qxb6,Qa8,e6,Bh6,Rd7,Qe4,Qb7,Qe1+,Rf1', 'Be3+,Kh1,Qxf1#', 'https://lichess.org/training/VHgo3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHGqL', 'Rapid', 'goashim', 1871, 'Ajedrez_China', 1868, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,a3,a6,N5c3,Nf6,Bc4,b5,Bb3,Be7,O-O,O-O,Be3,Be6,Nd5,Nxe4,Nxe7+,Qxe7,Bd5,Bxd5,Qxd5,Nd4,Qxe4,f5,Qd5+,Ne6,Nc3,f4,Bb6,Kh8,Rad1,Ng5,Qxd6,Qf7,Qxe5,Qg6,Bd4', 'Nf3+,Kh1,Nxe5', 'https://lichess.org/training/vHGqL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VHHtg', 'Blitz', 'deiviz', 1636, 'LordOfTheMosquitoes', 1505, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Ng5,d5,exd5,Nd4,d6,Qxd6,Nxf7,Qc5,b3,Ne4,Nxh8', 'Nxc2+,Qxc2,Qxf2+,Kd1,Bg4+,Be2,Qxe2#', 'https://lichess.org/training/VHHtg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VHJML', 'Rapid', 'autokad', 1652, 'FJCC', 1800, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,Nc3,Nc6,Qd3,Bg7,Bd2', 'Nb4,Qe2,Nxc2+', 'https://lichess.org/training/VHJML');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VhjZ7', 'Rapid', 'Kolbaska228', 1981, 'muralimohan', 2028, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,c3,d6,h3,O-O,O-O,Na5,Bc2,c5,d4,cxd4,cxd4,Nc6,dxe5,Nxe5,Re1,Qc7,Nd4,Bb7,Nf5,Rfe8,f4,Nc4,a3,Bf8,Nc3,Rac8,Kh1,Nxa3,Rxa3,b4,Rb3,bxc3,Rxc3,Qd7,Ba4,Bc6,Bxc6,Rxc6,Qd3,Rxc3,bxc3,Nxe4,Nh6+,gxh6,Rxe4,Qf5', 'Qg3+,Qg6,Qxg6+,hxg6,Rxe8', 'https://lichess.org/training/VhjZ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VHkhY', 'Rapid', 'Muddazzam202020', 1678, 'Je-suis-le-roi', 1685, 'e4,e5,Nc3,Nc6,d3,Nd4,a3,g6,Be3,Bg7,Nf3,c6,Ne2,Nxf3+,gxf3,Nf6,Bg2,d5,O-O,O-O,c3,Nh5,Qd2,Qh4', 'Bg5,Bh6,Bxh6', 'https://lichess.org/training/VHkhY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHKWC', 'Rapid', 'kindruk', 1970, 'vivin', 1974, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Nf6,Ne5,O-O,Bg5,h6,Bh4,Be6,O-O,c5,c3,Nc6,f4,cxd4,Nxc6,bxc6,cxd4,c5,dxc5,Bxc5+,Bf2,Bxf2+,Rxf2,Bg4,Be2,Re8,Bxg4,Nxg4,Qxg4', 'Re1+,Rf1,Qb6+,Kh1,Rxf1#', 'https://lichess.org/training/vHKWC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VhLlV', 'Rapid', 'root2154', 1685, 'pndsv1', 1718, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bd3,Bxd3,Qxd3,e6,a3,Bd6,Nc3,Nf6,O-O,h6,Re1,O-O,Ne5,Nbd7,f4,Rc8,Re3,a6,Rh3,Qc7,Be3,Bxe5,fxe5,Ne4,Bxh6,gxh6,Nxe4,Qxc2,Qg3+,Kh7,Nf6+,Nxf6,exf6,Rg8,Rxh6+,Kxh6,Qh4+,Kg6,Rf1,Qd2,Qg3+,Qg5,Qd3+,Kh6,g3,Rg6,Rf4,Rxf6,Rh4+,Kg7,Qh7+,Kf8,Qh8+,Qg8', 'Qxf6,Ke8,Rh8,Qxh8,Qxh8+', 'https://lichess.org/training/VhLlV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vhmQC', 'Blitz', 'IM sunysha', 2392, 'Str_Sma', 2495, 'e4,c5,Nf3,e6,d3,Nc6,g3,d5,Nbd2,Nf6,Bg2,g6,O-O,Bg7,c3,O-O,e5,Nd7,d4,cxd4,cxd4,Qb6,Nb3,f6,exf6,Nxf6,Be3,a5,Qd2,Ne4,Qd3,Nb4,Qe2,a4,Nc5,a3,bxa3,Rxa3,Nxe4,dxe4,Ng5,Bxd4,Bxd4,Qxd4,Nxe4,b6,Rfd1,Rd3,a3,Rd8,Rxd3', 'Qxa1+,Qf1,Qxf1+', 'https://lichess.org/training/vhmQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHnni', 'Blitz', 'nastusya', 2203, 'Chessmaste', 2444, 'e4,c6,d4,d5,Nc3,g6,exd5,cxd5,Nf3,Nc6,Bb5,Bg4,O-O,e6,Bf4,Ne7,h3,Bxf3,Qxf3,Bg7,Ne2,O-O,Bxc6,Nxc6,c3,Qb6,Rab1,Qa6,a3,Rfe8,Ng3,Rad8,Rfe1,e5,dxe5,Nxe5,Bxe5,Bxe5,h4,h5,Rbd1,Qc4,Rd2,Qxh4,Rxd5', 'Bxg3,Rxe8+,Rxe8,fxg3,Re1+,Kf2,Qh1', 'https://lichess.org/training/vHnni');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHPgW', 'Rapid', 'PaperSkull', 1807, 'Freddy_Froehlich', 1753, 'd4,e5,dxe5,Nc6,Nf3,Bc5,a3,d6,exd6,Nge7,dxe7', 'Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/vHPgW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHQ7u', 'Blitz', 'CM ventdelest', 2141, 'alterit', 2165, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,Bd2,cxd4,Nb5,Bf8,f4,Nc6,Nf3,Nh6,Nbxd4,Bd7,Bd3,Qb6,Bc3,Bc5,Bb5,O-O,Nxc6,bxc6,Bd3,a5,Qe2,Ng4,O-O-O,Nf2,Bxh7+,Kxh7,Ng5+,Kg6,Rdf1,Nxh1,Qg4,f5,exf6,gxf6,Ne4+,Kf7,Nxf6,Rad8,Qh5+,Ke7,Nxd7,Kxd7,Rxh1,Be3+,Kb1,Bxf4,Rf1,Bd6,Re1,Qf2,a3,Qf5,Qe2,Bc7,g4,Qg6,h4,e5,h5,Qg5,Bd2,Qf6,g5,Qf3,Qa6,Qxh5,Bxa5,Bxa5,Qxa5,Qxg5,Qa7+,Kd6,b4,Qd2,Qc5+,Kd7,Rxe5,Rf1+,Ka2,Re8,Rxe8,Kxe8,Qxc6+,Ke7,Qc7+,Ke6,Qc6+,Ke5,Qc7+,Kd4,Qc5+,Ke4,Qe7+,Kf3,Qf6+,Ke2,Qe5+,Kd1,Qa1+,Kxc2,Qxf1', 'Kc3+,Ka1,Qb2#', 'https://lichess.org/training/vHQ7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vhRI0', 'Rapid', 'MadHatter997', 1616, 'kmx77', 1680, 'e4,e5,Bc4,Bc5,Nf3,f5,Nxe5,Qh4,g3', 'Qxe4+,Qe2,Qxh1+', 'https://lichess.org/training/vhRI0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vhRrr', 'Rapid', 'phenixa', 2152, 'sjssj', 2158, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,a6,g3,h6,Bg2,Bg4,O-O,e5,d3,Be7,Nd5,Nf6,Nxf6+,Bxf6,h3,Bxf3,Qxf3,Nd4,Qd1,Qc7,c3,Ne6,Qg4,h5,Qf5,O-O-O,Be3,Qe7,d4', 'g6,Qxf6,Qxf6', 'https://lichess.org/training/vhRrr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VhRxT', 'Bullet', 'timexp', 1586, 'Boiled_Gooase', 1602, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,d4,Bg4,f3,Bh5,g4,Bg6,Ne2,e6,Bg5,Be7,Nd2,O-O,h4,h6,h5,Bh7,Be3,Nc6,c3,Qc7,Bc2,Bd6,Bxh7+,Kxh7,Qc2+,Kg8,Rg1,Nh7,O-O-O,Qa5,Qb1,Ng5,f4,Ne4,Nxe4,dxe4,g5,hxg5,fxg5,Rac8,h6,g6,Qxe4,Qxa2,Qb1,Qa6,Ng3,Nb4,Ne4,Be7,Nf6+,Bxf6,gxf6,Nd5,Rxg6+,fxg6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/VhRxT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vhsUn', 'Rapid', 'khoko', 1799, 'Josefan', 1777, 'c4,e5,a3,a5,Nc3,c6,g3,d5,cxd5,cxd5,Bg2,Nf6,d3,Be6,Nf3,Nc6,O-O,Be7,Ng5,Bg4,Nxd5,Nxd5,Qb3,Bxg5,Bxg5,Qxg5,Qxd5,Bxe2,Rfe1,Rd8,Qb5,Bxd3,Bxc6+,bxc6', 'Rxe5+,Qxe5,Qxe5+', 'https://lichess.org/training/vhsUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHun1', 'Classical', 'SS646', 1604, 'raynerg1', 1653, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bb5,Bd7,Bxc6,bxc6,Bg5,Qa5,Bxf6,gxf6,O-O,Rb8,Rb1,Bg7,a3,c5,Nf5,Bxf5,exf5,O-O,Qg4,Kh8,Rfe1,Rb7,Re3,Rg8,Rg3,Rbb8,h4,Bh6,Qf3,Rxg3,Qxg3,c4,Qg4,Rg8,Qxc4,Qxf5,Nd5,Qh3,g3,Rg4,Qc8+,Kg7,Nxe7', 'Rxg3+,fxg3,Be3#', 'https://lichess.org/training/vHun1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHveJ', 'Rapid', 'dan4ik941', 1920, 'jaybird', 1975, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,c3,Re8,Bg5,Be6,Nbd2,Nbd7,Qc2,h6,Bh4,g5,Bg3,Bxg3,fxg3,c5,dxc5,Nxc5,Nd4,Nxd3,Qxd3,Bd7,Nf5,Qb6+,Kh1,Bxf5,Qxf5,Re6,Nb3,Kg7,Nd4,Re4,Qh3,Ng4,Qh5,Qg6,Nf5+,Kg8,Qxg6+,fxg6,Nd4,Re7,h3,Ne5,Rae1,Rae8,Re2,Nd3,Rd2,Re1,Rxe1,Rxe1+,Kh2,Nc1,a3,Re3,Nc2,Rd3,Rxd3,Nxd3,b3,Kf7,Nd4,Ke7,Nb5,a6,Nd4,Kd6,g4,Nc5,g3,Ne4,Ne2,Kc5,h4,Nf2,hxg5,hxg5,Kg2,Nxg4,Nd4,Ne3+,Kf3,Nf5,Ne6+,Kd6,Nxg5,b6,Nf7+,Ke7,Ne5,Kf6,Nd7+,Ke6,Nxb6,Nd6,g4,Nb5,c4,dxc4,Nxc4,Nd4+,Ke4,Nxb3,Ne5,Nc5+,Kf4', 'g5+,Kxg5,Kxe5', 'https://lichess.org/training/vHveJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHvKT', 'Rapid', 'Mankirov', 1715, 'aRocco', 1769, 'd4,d5,c4,dxc4,e3,e6,Nc3,Bd7,Nf3,Be7,Bd2,Nf6,Bxc4,a6,O-O,O-O,Bd3,Qe8,Qc2,c5,dxc5,Bxc5,a3,Bb5,b4,Bxd3,Qxd3,Be7,Ng5,Qd7,Qe2,Nd5,Qg4,Bxg5,Qxg5,Qe7,e4', 'Qxg5,Bxg5,Nxc3', 'https://lichess.org/training/vHvKT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vhVug', 'Blitz', 'misha1710004', 1670, 'GabeauTal', 1756, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Bd3,O-O,O-O,h6,Bh4,Bg4,Nbd2,Nbd7,h3,Bh5,c3,c5,Qc2,Rc8,Rfe1,Bxf3,Nxf3,Qb6,dxc5,Bxc5,Bg3,Rfe8,b4,Bxb4,Rab1,Rxe1+,Nxe1,Rxc3,Qa4,a5,a3,Rxa3,Qc2,Qd8,Bc7,Qe7,Bxa5,Bxa5,Rxb7,Qxe1+,Kh2,Qe5+,g3,Ra1,Qc8+,Nf8,Rb8,Nd7,Qxd7,Qe1,Rxf8+,Kxf8,Qc8+,Qe8,Qc5+,Qe7,Qc8+,Qe8,Qc5+,Kg8,Qd4,Qa4,Qxd5,Qd1', 'Qa8+,Bd8,Qxd8#', 'https://lichess.org/training/vhVug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHwND', 'Blitz', 'loser46', 1910, 'hakangulcuu1', 2242, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c4,Nf6,Nc3,e6,c5,Be7,Bd3,O-O,O-O,b6,b4,Nxb4,cxb6,Nxd3,Qxd3,Qxb6,Bg5,Ba6,Qe3,Bxf1,Rxf1,Rac8,Ne2,Rfe8,Ne5,h6,Bxh6,Bf8,Bg5,Nh7,Ng3,Nxg5,Qxg5,f6,Qg6,fxe5,Nh5,Qb7', 'Nf6+,Kh8,Qh5#', 'https://lichess.org/training/vHwND');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VhxqV', 'Blitz', 'Froeberg', 2194, 'Chekhover9999', 2201, 'e4,e5,Bc4,Nf6,d3,c6,Bb3,d5,Nf3,Bb4+,Nc3,d4,Nxe5,dxc3,Bxf7+,Kf8,O-O,Nbd7,Nxd7+,Bxd7,Bb3,Qe7,a3,Ba5,Rb1,Be6,Bxe6,Qxe6,f4,g6,Kh1,Kg7,Qf3,Qg4,Qe3,Rhe8,bxc3,Bb6,Rxb6,axb6,Qxb6,Re7,c4,Qe2,Rg1,Qxc2,Bb2,Ra6,Qb4,c5,Qb5,Rc6,e5,Ng4,h3,Ne3,e6+,Kh6,Bf6,Rexe6,Bg5+,Kg7,Qxb7+,Kf8,Qxh7,Qxd3,Qh8+,Kf7,Qh7+,Ke8', 'Qg8+,Kd7,Qd8#', 'https://lichess.org/training/VhxqV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vHyxq', 'Classical', 'Boro-i-Ramiz', 1981, 'Serg1951GSM', 2052, 'd4,d5,e3,Nf6,Bd3,Nc6,f4,Bg4,Be2,Qd7,Nf3,Ne4,Ne5,Nxe5,fxe5,Bxe2,Qxe2,e6,O-O,O-O-O,Nc3,f5,a4,a6,Nxe4,fxe4,Bd2,g5,b4,c6,b5,cxb5,axb5,Qxb5,Qg4,Qd7,Rf6,Re8,Raf1,Bg7,R6f2,h6,Qh5,Re7,Bb4,Ree8,Rf7,Qb5,Bd6,Bxe5,Rc7+,Kd8,Bxe5,Ref8,Rxf8+,Rxf8,Qd1,Rf5,Rc5,Qb4,Bc7+,Ke7,Ba5,Qa3,c3,Qb2,Qe1,b6,Rc7+,Kf6,Bb4,a5,Bd6,Qc2,Be5+,Kg6,h3,h5,Re7,b5,Rxe6+,Kf7,Rb6,Qb2,Rb7+,Ke6,c4,dxc4,Qg3,Qb1+,Kh2,Rf1,Qxg5,Rh1+,Kg3,Qe1+,Kf4,Rf1+,Kxe4', 'Qb1#', 'https://lichess.org/training/vHyxq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VHZ8b', 'Blitz', 'jereycorong', 2233, 'chessunable', 2217, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,g4,d5,g5,Nxe4,Nxe4,dxe4,Qxd8+,Kxd8,Be3,Nd7,O-O-O,Rc8,Na5,Kc7,Kb1,Bc5,Nb3,Bxe3,fxe3,Rhd8,h4,Kb6,Nd2,Bd5,c4,Bc6,b3,Nc5,Rhf1,Rd7,Bg4,Ne6,Rxf7,Rxf7,Bxe6,Rcf8,Bxf7,Rxf7,Rf1,Rxf1+,Nxf1,Bd7,Ng3,g6,Kb2,Bc6,Kc3,a5,a3,Kc5,h5,b6,h6,Kd6,b4,Ke6,bxa5,bxa5,c5,Kd5,Ne2,Kxc5,Ng1,Bd7,Ne2,Bf5', 'Ng3,Bg4,Nxe4+,Kd5,Nf6+', 'https://lichess.org/training/VHZ8b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vhzCH', 'Rapid', 'Pretletter', 1751, 'schachgurke57', 1752, 'e4,e5,f4,d5,exd5,exf4,Nf3,Bd6,Nc3,c6,dxc6,Nxc6,Bc4,Nf6,O-O,O-O,d3,h6,a3,Be6,Bb3,Bxb3,cxb3,Re8,Nb5,Bb8,a4,a6,Nc3,Nb4,d4,Nfd5,Nxd5,Qxd5,Nh4,Re4,Qg4,Qxd4+,Kh1,Nd3,Nf5,Nf2+,Rxf2', 'Re1+,Rf1,Rxf1#', 'https://lichess.org/training/vhzCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vI3qX', 'Blitz', 'Vitia', 2008, 'dibernardino', 1847, 'c4,e5,b3,Nf6,Bb2,Nc6,g3,d6,Bg2,Bd7,e3,Be7,Ne2,O-O,d4,e4,d5,Ne5,Nbc3,c5,O-O,Bf5,Qc2,h5,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,h4,Bxe5,dxe5,h3,hxg3,fxg3,Qd7,g4,Rad8,Ng3,Qd6,Nf5,Qf6,Nxe7+,Qxe7,Rf5,Rfe8,Raf1,g6,Rf6,Kg7,Qf3,Rd7,e4,Rh8,Kg2,Rf8,Qf2,Rd6,Rxd6,Qxd6,Qe3,f6,Rf3,a6,Kg3,b5,Qd3,b4,Qc2,a5,Qc1,f5,exf5,e4+,Rf4,gxf5,gxf5,Rxf5,Kg4', 'Qg6+,Kh4,Rh5#', 'https://lichess.org/training/vI3qX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vI47a', 'Rapid', 'zmaayeh', 1763, 'anilpatra', 1843, 'e4,d5,exd5,Nf6,Be2,Nxd5,Bf3,Nb4,a3,N4c6,Ne2,Bf5,d4,e6,c4,Nd7,Nbc3,Nb6,b3,a5,O-O,Be7,Bb2,a4,d5,exd5,cxd5,Ne5,b4,Nxf3+,gxf3,Bf6,Nd4,Bg6,Re1+,Kf8,Rc1,Nc4,Ba1,Nxa3,Ne4,Bxe4,fxe4,c6,e5,Bg5,Qf3,Qxd5,Qxa3,Bxc1,Qxc1,Re8,Qf4,f6,Nf5,g6,Qh6+,Kf7,Qg7+,Ke6,Qxf6+,Kd7,e6+,Kc7,Be5+,Kb6,Ne7,Qd2,Bc3,Qd3,Qg5,Qb5,Re5,Qc4,Qe3+,Kc7,Rc5,Qg4+,Kh1,Qd1+,Kg2,Qg4+,Qg3+,Qxg3+,hxg3,Rhf8,Nd5+,Kd6,Nf4,b6', 'Be5+,Ke7,Rxc6', 'https://lichess.org/training/vI47a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vi7NM', 'Rapid', 'rezaatashkade', 1662, 'yuvalset', 1651, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,Bg5,Bg4,Nf3,Nc6,h3,Bxf3,Qxf3,Nd4,Qd3,Qb6,Bb3,Nxb3,axb3,a6,Bxf6,Bxf6,Nd5,Qd8,Nxf6+,exf6,Rad1,Qe7,Rfe1,Rad8,c4,Rd7,Rd2,Rfd8,Red1,Qe5,b4,b5,b3,Re7,c5,Qxe4,cxd6,Qxd3', 'dxe7,Re8,Rxd3', 'https://lichess.org/training/Vi7NM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vib9t', 'Blitz', 'IM Wilsonpalencia', 2443, 'pavster', 2335, 'e4,d6,d4,Nf6,Nc3,c6,Nf3,Bg4,Be2,e6,Be3,Be7,Nd2,Bxe2,Qxe2,O-O,g4,d5,e5,Nfd7,f4,Bh4+,Bf2,c5,Nf3,Bxf2+,Qxf2,cxd4,Ne2,Qa5+,Kf1,Nc6,Nexd4,Nxd4,Nxd4,Nc5,Nb3,Qa6+,Qe2,Qxe2+,Kxe2,Ne4,Nd2,Nxd2,Kxd2,Rac8,c3,Rc4,Rhf1,Rfc8,g5,d4,cxd4,Rxd4+,Ke3,Rcd8,Rac1,R4d7,Rc2,g6,Rfc1,Rd3+,Kf2,R8d4,Rc4,Rxc4,Rxc4,Rd2+,Ke3,Rxb2,a4,Rxh2,Rc7,Rb2,a5,Kg7,Kd4,Rb4+,Kc5,Rb1,Kd6,b6,a6,Ra1,Rxa7,b5,Ke7,b4,Ke8,b3,Rxf7+,Kg8,Rb7,Rxa6,Rxb3,Ra4,Ke7,Rxf4,Kxe6,Rf5,Rb8+,Kg7,Rb7+,Kg8,Kd6,Rf1,e6,Rd1+,Ke5,Re1+,Kd5,Rd1+,Ke5,Re1+,Kf6,Rf1+,Ke7,Re1,Kd7,Rd1+,Ke8,Re1,e7,Re2,Rb5,Re4,Kd7,Rd4+,Ke6,Re4+,Kd6,Rd4+,Kc7,Re4,Rb8+,Kf7,Rh8,Rxe7+,Kd6,Re6+,Kd5,Re7', 'Rxh7+,Kf8,Rxe7,Kxe7,Ke5', 'https://lichess.org/training/Vib9t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ViBUv', 'Rapid', 'Da7001', 1767, 'alanyaresim', 1779, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,c5,Qd1,Be7,Nc3,Nf6,Bd3,O-O,O-O,d6,Kh1,Bg4,f3,Bh5,Qe2,Qd7,Bf4,Rfe8,Rfe1,Bd8,Qf2,Bb6,Be3,c4,Bxc4,Bxe3,Qxe3,d5,Nxd5,Nxd5,Bxd5,Re7,Rad1,Qb5,b3,Rae8,c4,Qb4,Qxa7,Kf8,Qd4,Bg6,h3,f6,Re2,Bf7,Rde1,Rd8,Rd1,Bxd5,cxd5,Qb5,Ree1,Red7,Qc4,Qa5,a4,Rc7,Qd4,Rc2,Rb1,Qc7,b4,Rc4,Qd3,Rc3,Qb5,Qg3,Qf1,h5,Re2,Rdc8,Qf2', 'Rc1+,Re1,Qxf2', 'https://lichess.org/training/ViBUv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VIbwQ', 'Rapid', 'teutonn', 1692, 'ha1999', 1689, 'd4,d5,e3,e6,c4,c5,Nf3,dxc4,Bxc4,cxd4,Bb5+,Bd7,Qa4,Nf6,Nxd4,Be7,O-O,O-O,Nc3,a6,Bxd7,Nbxd7,Qc2,Qc7,Nf3,Rac8,Bd2,Nd5,Rac1,Bf6,Qe4,Nxc3,Bxc3,Qb6,Bxf6,Rxc1,Rxc1,Nxf6,Qd4,Qb5,Rd1,h6,Ne5,Nd5,h3,Nb4,a3,Nc6,Nxc6,Qxc6,Qa7,Qb5,Qd4,Rc8,a4,Qc6,Qb4,Rc7,Rd6,Qc1+,Kh2,Qc2,f3,Qe2,Qe4,g6,Rd8+,Kg7,Qb4,Rc2', 'Qd4+,e5,Qxe5+,Kh7,Rh8#', 'https://lichess.org/training/VIbwQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VicGr', 'Rapid', 'Ndidiamaka', 2060, 'denishendaye', 2050, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nb4,Bd2,e5,d5,b5,a3,bxc4,axb4,Qxd5,Nc3,Qb7,b5,Be6,Qa4,Nd7,Nf3,Nc5,Qc2,f6,Be2,O-O-O,O-O,Nb3,Rad1,Bb4,Be3,Bxc3,Qxc3,Qxb5,Bxa7,c5,Nxe5,Kb7,Nxc4,Kxa7,Ra1+,Nxa1,Rxa1+,Kb8,Qg3+,Kc8,Nd6+,Rxd6,Qxd6,Qxe2,Ra8+,Kb7,Ra1,Rc8,Qe7+,Rc7,Qd6,Qc4,h3,Bd5,Qg3,Bc6,Qa3,Kc8,Qg3,Bb7,Re1,Qf7,Qd6,Qd7', 'Qf8+,Qd8,Re8', 'https://lichess.org/training/VicGr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIdLv', 'Blitz', 'GM ThiesHeinemann', 2460, 'FM ShellingFord92', 2483, 'e4,e6,Qe2,e5,Nf3,Nc6,g3,Bc5,Bg2,Nf6,O-O,O-O,c3,Re8,d3,d6,Nbd2,a5,a4,h6,Nc4,Be6,Rd1,Ba7,Be3,Bxe3,Nxe3,d5,exd5,Nxd5,Nd2,Qd7,Ne4,b6,Nxd5,Bxd5,Qh5,f5,Bh3,Be6,Nd2,Rad8,Nf1,Qf7,Qxf7+,Kxf7,Bg2,Rd6,Ne3,Red8,Bf3,Ne7,Be2,Bb3,Re1,Kf6,h4,g6,Nf1,Bc2,d4,exd4,cxd4,Rxd4,Rec1,Bxa4,Rxc7,Bc6,Rc1,R8d6,Ne3,g5,hxg5+,hxg5,Rxe7,Kxe7,Nxf5+,Kd7,Nxd4,Rxd4,Rc2,Kd6,Kf1,b5,Ke1,b4,Rd2,Kc5,Rc2+,Kb6,f3,a4,Kf2', 'b3,Rc3,Rd2,Ke3,Rxb2', 'https://lichess.org/training/vIdLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('viE5D', 'Rapid', 'Zvonkan', 1726, 'mingus', 1650, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d5,Nxe5,Bd7,Nxc6,bxc6,Be2,dxe4,d3,Bd6,Bg5,h6,Bxf6,Qxf6,Nc3,O-O,Nxe4,Qxb2,Nxd6,cxd6,Bf3,d5,c4,Qd4,cxd5,cxd5,Re1,Rab8,a4,a5,Re7,Be6,Rc1,Qh4,Ra7,Qb4,d4,Rfc8,Rxc8+,Rxc8,h3,Qb6,Re7,Kf8,Rxe6,Qxe6,Qb3,Rc1+,Kh2,Qd6+,g3,Qa6', 'Qa3+,Kg8,Qxc1', 'https://lichess.org/training/viE5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vieUo', 'Blitz', 'MihajloPjanovic', 1956, 'veektour', 1961, 'd4,d5,Bf4,Nf6,Nc3,Bf5,Qd2,e6,O-O-O,Bb4,f3,a6,h4,c6,g4,Bg6,h5,Be4,fxe4,Nxe4,Qe3,Bxc3,bxc3,Qa5,Bg2', 'Qa3+,Kb1,Nxc3+,Qxc3,Qxc3', 'https://lichess.org/training/vieUo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Viezz', 'Rapid', 'SubramanianTV', 1718, 'alperen-dirilish', 1713, 'e4,e5,d4,d6,Nf3,Nc6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bc4,f5,O-O,fxe4,Nc3,Nf6,Rd1+,Bd6,Bg5,Bg4,Rd2,e3,fxe3,Kd7,Bxf6,gxf6,Ne4,Raf8,Nxd6,cxd6,h3,Be6,Bb5+,Ke7,a3,Rhg8,Kh2,Rg5,Rad1,Rfg8,Bf1,Rg3,Rxd6,Rxe3', 'Rxe6+,Kxe6,Bc4+,Ke7,Bxg8', 'https://lichess.org/training/Viezz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('viFcz', 'Rapid', 'Erwing68', 2314, 'MuratPolatozkan1', 2161, 'e4,e6,d4,b6,c4,Bb7,Nc3,Bb4,d5,Ne7,Bg5,O-O,Bd3,f6,Be3,exd5,cxd5,d6,Ne2,Nd7,O-O,Ng6,Nd4,Nde5,Ne6,Qd7,Nxf8,Rxf8,Be2,f5,f3,f4,Bf2,Qe7,a3,Bxc3,bxc3,Qg5,Kh1,Nh4,Rg1,Rf6,g3,Nhg6,gxf4,Qxf4,Bg3,Qe3,Rf1,Qxc3,Rc1,Qxa3,Rxc7,Ba6,Bxa6,Qxa6,f4,Nc4,Qe2,b5,Qg4,Rf8,Qe6+,Kh8,f5,Nge5,Bxe5,Nxe5,Qe7,Rg8,Rg1,Qa4,Qxg7+,Rxg7', 'Rc8+,Rg8,Rgxg8#', 'https://lichess.org/training/viFcz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIFLo', 'Blitz', 'CM Matenpocas', 2370, 'FM BoardDemon', 2499, 'd4,c5,d5,d6,Nc3,g6,e4,Bg7,h4,Nf6,Be2,O-O,h5,e6,hxg6,hxg6,dxe6,Bxe6,Nf3,d5,exd5,Nxd5,Nxd5,Qxd5,Qxd5,Bxd5,O-O,Re8,Bb5,Nc6,Be3,Rac8,c3,b6,Rfd1,Bxf3,gxf3,Re7,Bxc6,Rxc6,Rd8+,Kh7,Kg2,g5,Rh1+,Kg6,Rg8,Rce6,Bxg5,Re8,Rxe8,Rxe8,Be3,Rd8,Rh4,Be5,Rg4+,Kf5,Ra4,a5,f4,Bf6,Kf3,Rd1,b4,Bxc3,bxc5,bxc5,Bxc5,Rd3+,Be3,Bb4,Ke2,Rc3,Bd2', 'Rc2,Rxb4,axb4', 'https://lichess.org/training/vIFLo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ViGaE', 'Blitz', 'hsnakc', 1816, 'Arthur02Monici20', 1836, 'e4,c5,d4,cxd4,c3,Nc6,cxd4,d5,e5,Bf5,Nf3,e6,Bb5,Bb4+,Bd2,a5,a3,Bxd2+,Qxd2,Ne7,O-O,O-O,Nc3,Bg4,Ng5,Nf5,f3,Bh5,g4,Nfxd4,Bxc6,Nb3,Qd3,Qxg5,Bxb7,Rab8,Bxd5,exd5,Nxd5,Nxa1,Rxa1,Bg6,Qd4,Rfd8,f4,Qxg4+,Kf2,Qh4+,Ke3,Qh3+,Kf2,Qxh2+,Ke3,Rxb2', 'Ne7+,Kf8,Qxd8#', 'https://lichess.org/training/ViGaE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VIgjF', 'Rapid', 'Cahilplayer', 2147, 'pionfou', 2237, 'Nc3,c5,e4,Nc6,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,d6,f3,Bd7,Bc4,Nf6,a3,a6,Ba2,O-O,Qd2,b5,h4,Ne5,Bh6,Qb6,Bxg7,Kxg7,h5,Nxh5,O-O-O,b4,axb4,Qxb4,g4,Rab8,Bb3,Nc4,Qg5,h6,Qh4,Rfc8,gxh5,g5,Qe1,Na5,Nd5', 'Nxb3+,Nxb3,Qxb3', 'https://lichess.org/training/VIgjF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vihJx', 'Rapid', 'vanofa22732273', 1856, 'happemonkey', 1878, 'e4,e5,d3,Nf6,Nf3,Nc6,Nc3,Bb4,Bd2,O-O,Be2,Bxc3,Bxc3,d5,exd5,Nxd5,Bd2,Re8,O-O,f5,Bg5,Qd6,c4,Nf4,Bxf4,exf4,d4,Qe7,Re1,Bd7,c5,Qf6,d5,Ne5,Nxe5,Rxe5,d6,cxd6,cxd6,Rae8,Bc4+,Kh8,Rxe5,Qxe5,Qd2,Bc6,f3', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/vihJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIiIW', 'Classical', 'brandon_faver', 1697, 'lex333', 1696, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,Qb6,Na3,cxd4,cxd4,Bxa3,bxa3,Bd7,Qb3,Qa5+,Bd2,Qc7,Rb1,b6,Bb4,Nge7,Bxe7,Nxe7,Bb5,Bxb5,Qxb5+,Qc6,Qxc6+,Nxc6,Rc1,Rc8,O-O,O-O,Rc2,Na5,Rfc1,Rxc2,Rxc2,Nc4,a4,h6,Ne1,Kh7,Nd3,Kg6,f4,Kf5,Kf2,Ke4,Nb4,Kxf4,Nc6,a5,Na7,f6,exf6,Rxf6,Nb5,Ke4+,Ke2,Rg6,g3,Rg5,Nc7,Rg6,Nb5,h5,Rc3,h4,Rf3,hxg3,hxg3,Rf6,Rd3,Rh6,Rb3,Rh2+,Ke1,Rxa2', 'Nc3+,Kxd4,Nxa2', 'https://lichess.org/training/vIiIW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('viJDF', 'Rapid', 'soeral', 2012, 'Blunderkoning', 2069, 'e4,c5,d3,Nc6,g3,d5,Nd2,Nf6,exd5,Qxd5,Qf3,Bg4,Qxd5,Nxd5,c3,e5,Be2,Bxe2,Kxe2,Be7,Ngf3,O-O,Nc4,Rfe8,Kd1,Bf6,Ne3,Rad8,Kc2,e4,dxe4,Rxe4,Nxd5,Rxd5,Be3,Ne5,Ne1,Nc4,Ng2,Nxe3+,Nxe3,Rde5,Rhe1,Bg5,f4,Rxe3', 'fxe5,Rxe1,Rxe1', 'https://lichess.org/training/viJDF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIJVO', 'Rapid', 'MaxQuintus', 1985, 'ejeds', 2058, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nf3,Bg4,Nc3,Nc6,Be3,e6,Bb5,Bb4,O-O,O-O,h3,Bh5,Rc1,Ne7,a3,Bxc3,bxc3,c6,Be2,Rc8,c4,Bg6,Bd3,h6,Qd2,f5,Bxh6,gxh6,Qxh6,fxe4,Ng5,exd3', 'Nxe6,Rf7,Nxd8', 'https://lichess.org/training/vIJVO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VIKyA', 'Rapid', 'Kagami89', 1925, 'JiReH25', 1986, 'd4,d5,c4,dxc4,e4,e5,Nf3,Bg4,Bxc4,Bxf3,Qxf3,Bb4+,Nc3,Qd7,O-O,exd4,Nd5,Bd6,e5,Bxe5,Re1,f6,Nxf6+,gxf6,Qxb7,Ne7,f4,Bd6,Qxa8,c6,Be6,Qc7,f5,Kf8,Bh6+,Ke8,b4,Qb6,b5,Be5,Rab1,cxb5,Qf3,Nbc6,Bg7,Rf8,Qh5+,Kd8,Bxf8,d3+,Kh1,d2,Red1,Qf2,Rxb5', 'Qe1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/VIKyA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vinBg', 'Blitz', 'NM BIGPROBLEM', 2233, 'CuzImBetter', 2266, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bg5,h6,Bxf6,Nxf6,Bd3,Nxe4,Bxe4,c5,c3,cxd4,Nxd4,Be7,Qa4+,Bd7,Qc2,Qb6,O-O,O-O,Rad1,Rfd8,Qe2,Rac8,Bb1,Bf6,Qe4,Kf8,Qh7,Ba4,b3,Be8,Qh8+,Ke7,Nf5+,exf5,Rfe1+,Be5', 'Rxe5+,Kf6,Rxf5+', 'https://lichess.org/training/vinBg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('viNGa', 'Rapid', 'Ralf_37', 1679, 'huthayfa78', 1648, 'e4,e6,d4,d5,e5,c5,Bb5+,Bd7,Bxd7+,Nxd7,c3,Qb6,b3,Ne7,Bg5,h6,Bh4,Nf5,Nf3,Be7,Bxe7,Nxe7,O-O,Nf5,g4,Ne7,h3,f6,Re1,O-O,Kg2,Ng6,Kg3,Qc7,Kg2,fxe5,Nxe5,Ndxe5,dxe5,Nxe5,Qe2,Nf7,Qxe6,Qd6,Qxd6,Nxd6,Nd2,c4,b4,b5,Re6,Rad8,Rae1,Rfe8', 'Rxd6,Rxd6,Rxe8+', 'https://lichess.org/training/viNGa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VInq5', 'Blitz', 'palka', 1853, 'IEQ', 2403, 'd4,Nf6,c4,d5,Nf3,dxc4,Nc3,Bf5,e3,e6,Bxc4,Bd6,O-O,Nc6,Re1,Bb4,a3,Bxc3,bxc3,Ne4,Bd2,Na5,Bd3,Nxd2,Qxd2,Nb3,Qb2,Nxa1,Bxf5,exf5,Rxa1,b6,Ne5,O-O,Rc1,Qe7,c4,Rfe8,Qc2,Qxa3,Rd1,f4,exf4,f6,Nc6,Qd6,d5,Qxf4,Qa4,Re2,Rf1,a6,Qb3,Rae8,c5,Rxf2,Rxf2', 'Re1+,Rf1,Qxf1#', 'https://lichess.org/training/VInq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vINSd', 'Rapid', 'BogomilTodorov', 2142, 'somar_k', 1894, 'b4,d5,Bb2,c6,e3,Bf5,c4,e6,Nf3,Bxb4', 'Bxg7,Nf6,Bxh8', 'https://lichess.org/training/vINSd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vINVQ', 'Blitz', 'Merenguelendi', 2539, 'IM outoftheblu', 2550, 'd4,d5,Nf3,e6,c4,a6,e3,Nf6,Nc3,Nbd7,Qc2,Be7,b3,O-O,Be2,c5,cxd5,exd5,O-O,b5,dxc5,Nxc5,Bb2,Bg4,Rac1,Rc8,Qb1,Qb6,Nd4,Bxe2,Ncxe2,Nfe4,Rfd1,Bf6,Nf5,g6,Nh6+,Kg7,Ng4,Bxb2,Qxb2+,f6,Rxd5,h5,b4,hxg4,bxc5,Rxc5,Rcxc5,Nxc5,Qd4,Rc8,Qxg4,Qe6,Qxe6,Nxe6,g3,Rc2,Rd7+,Kf8,Kf1,Rxa2,Rd6,Ke7,Rb6,g5,h4,gxh4,gxh4,Nc5,Nd4,Ne4', 'Re6+,Kf7,Rxe4', 'https://lichess.org/training/vINVQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ViO3J', 'Classical', 'adriantangh', 2095, 'shockingblue', 2012, 'd4,Nf6,Bf4,g6,Nc3,d5,e3,Bg7,Be2,O-O,h4,Nc6,h5,e5,Bg5,Qd6,hxg6,fxg6,dxe5,Nxe5,Bxf6,Bxf6,Qxd5+,Kh8,Qxd6,cxd6,Nf3,Ng4,O-O,Bf5,Nd4,Bd7,Ne4,Be5,c3,Rae8,Nf3,Bf5,Nxe5,dxe5,Nd6,Re7,Nxf5,gxf5,Rad1,Nf6,Bc4,Rc8,Bb3,Rg7,Be6,Rf8,Bxf5,Rfg8,g3,Rg5,Be6,Re8,Bb3,Rf8,Kg2,Ng4,Be6,Rxf2+,Kg1,Rxb2,Rd8+,Kg7,Rd7+,Kh6,Rff7,Nxe3,Rxh7+,Kg6,Rxb7,Rxg3+,Kh1,Rb1+,Kh2', 'Rg2+,Kh3,Rh1#', 'https://lichess.org/training/ViO3J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIO7v', 'Blitz', 'giftedhandz', 2308, 'IM MicFed', 2478, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,d6,f4,Nc6,Nc3,dxe5,fxe5,e6,Nf3,Bb4,Bd2,O-O,Bd3,Nxd4,Nxd4', 'Qh4+,g3,Qxd4', 'https://lichess.org/training/vIO7v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ViOig', 'Rapid', 'Mikailcanli', 1758, 'M05T4F4', 1636, 'e4,e5,Nf3,Nf6,d3,h6,g3,Bc5,Nxe5,d6,Nf3,Bg4,Bg2,O-O,O-O,Nc6,b3,Re8,Bb2,Ne5,Nbd2,Qd7,Re1,Nxf3+,Nxf3,d5,e5,Nh7,Qd2,Bh3,Bh1,Qf5,Nh4,Qd7,Qc3,Ng5,Qxc5,Re6,Bxd5,Rae8,Bxb7,Rb8,Bd5,Rbe8,Bxe6,Rxe6,Re3,Rc6,Qxa7,Rxc2,Qb8+,Kh7,Rb1,Qc6,e6,Rxb2,Rbe1,Qc2,R3e2,Qxe2,Rxe2', 'Rb1+,Re1,Rxe1#', 'https://lichess.org/training/ViOig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIP8D', 'Rapid', 'leqsurasergey71', 1658, 'zz_ciukino', 1662, 'e4,Nc6,Nf3,Nf6,e5,Ne4,Bc4,e6,d4,d5,exd6,cxd6,d5,Nb4,dxe6,fxe6,Bd3,d5,c3,Nxd3+,Qxd3,Be7,O-O,Bh4,Nxh4,Qxh4,Qb5+,Bd7,Qxb7,O-O,Qxd7,Rxf2,Qxe6+,Kf8,Nd2', 'Rxf1+,Nxf1,Qf2+,Kh1,Qxf1#', 'https://lichess.org/training/vIP8D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VIpvg', 'Rapid', 'Yes1962', 1642, 'Williken', 1699, 'c4,e6,Nc3,d5,cxd5,exd5,Nf3,Nf6,g3,c6,Bg2,h6,a3,Bf5,O-O,Bc5,b4,Bb6,e3,O-O,Bb2,Nbd7,d4,Qc7,Nh4,Bh7,Na4,Qd6,Nxb6,Nxb6,Rc1,Nc4,Qe2,Rfe8,Rxc4,dxc4,Qxc4,Nd5,Re1,Nb6,Qb3,Be4,Bxe4,Rxe4,Nf5,Qd5,Qxd5,Nxd5,f3,Re6,e4,Rae8,Rd1,Nf6,d5,cxd5,exd5,Rd8,Bxf6,Rxf6,Ne7+,Kf8,Re1,Rxf3,d6,Rd3,Nf5,Rd5,g4,Rd3,Re7,Rd1+,Kf2,Rd2+,Ke3,Rxh2,Rc7,g6,d7,Rxd7', 'Rc8+,Rd8,Rxd8#', 'https://lichess.org/training/VIpvg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vipzq', 'Rapid', 'rrrmohsen', 1871, 'NucleyDoocley', 1843, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,f6,d4,exd4,Nxd4,Bc5,Nf3,Bg4,Nbd2,Ne7,h3,Bh5,Qe1,O-O,Nh2,Bd6,f4,Re8,Ndf3,Nd5,Qh4,Bf7,exd5,Bc5+,Kh1,Qxd5,Bd2,Re2,Rad1,Qxa2,Bc3,Rxc2,Ng4,Be7,Rd7,Re2,Qg3,Kf8,Re1,Rxe1+,Qxe1,Re8,Qd2,Qb1+,Kh2,Qf5,Rxc7,Rd8,Qe2', 'Qxf4+,g3,Qxc7', 'https://lichess.org/training/Vipzq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIqlr', 'Rapid', 'akhenaton', 1726, 'Galapagator', 1676, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,d4,exd4,cxd4,Nxd4,Nbd2,Qf6,Be2,O-O-O', 'Nxd4,Bxe2,Nxe2', 'https://lichess.org/training/vIqlr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIqWP', 'Bullet', 'jimmy-schlumpf', 2217, 'InMoscow', 2061, 'Nf3,Nc6,d4,d5,c4,Nf6,Nc3,Bf5,Bf4,a6,e3,e6,Rc1,Bb4,Qb3,O-O,a3,Bxc3+,Qxc3,Ne4,Qb3,Na5,Qa2,dxc4,Bxc4,Nxc4,Qxc4,c5,dxc5,g5,Be5,g4,Nd4,Rc8,Nxf5', 'Qd2+,Kf1,Qxf2#', 'https://lichess.org/training/vIqWP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vir5H', 'Rapid', 'dylanfranco', 1814, 'Surikoff_A', 1814, 'b4,Nf6,Bb2,e6,a3,d5,d3,c5,bxc5,Bxc5,Nd2,Nc6,e4,Bd4,c3,Bb6,e5,Nxe5,c4,Neg4,d4,dxc4,Nxc4,O-O,Be2,e5,dxe5,Nxf2', 'Qxd8,Bxd8,Kxf2', 'https://lichess.org/training/Vir5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vitfJ', 'Blitz', 'ErickG91', 2141, 'QuantorDLR', 2185, 'e4,c5,Nf3,d6,Bc4,Nf6,e5,dxe5,Nxe5,e6,Qe2,Be7,b3,O-O,Bb2,a6,a4,Nc6,Nxc6,bxc6,O-O,Nd5,Nc3,Bf6,Rab1,Re8,Ne4,Be7,Qg4,f6,f4,Kh8,Qh3,e5,f5,Nf4,Rxf4,exf4,Rf1,Bd6,Rf3,Rxe4', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/vitfJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vItY1', 'Blitz', 'pro-life', 1799, 'ragnord', 1954, 'e4,b6,Nc3,Bb7,f4,e6,Nf3,Nf6,Bc4,Nxe4,Nxe4,Bxe4,O-O,Be7,d3,Bb7,f5,exf5,Ne5,d5,Bb5+,c6,Nxf7,Kxf7,Rxf5+,Bf6,Ba4,a5,Bg5,b5,Bxf6,gxf6,Qh5+,Kg7,Raf1,bxa4,R1f3,Rg8,Rg3+,Kh8', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/vItY1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIUE9', 'Classical', 'oksana081167', 1683, 'DashEla73', 1658, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,Nf3,O-O,h3,h6,Bh4,c5,dxc5,Bxc5,e3,Nc6,Be2,Bf5,a3,a6,O-O,b5,Bxf6,Qxf6,Qxd5,Be7,e4,Bc8,Rad1,Rd8,Qb3,Be6,Qc2,b4,Nd5,Qg6,Nxe7+,Nxe7,Kh2,bxa3,bxa3,Rac8,Rxd8+,Rxd8,Rd1,Rxd1,Bxd1,Bc8,Qc4', 'Qd6+,e5,Qxd1', 'https://lichess.org/training/vIUE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIuQK', 'Rapid', 'mehdinasir79', 1776, 'argaeon', 1727, 'd4,Nf6,Bf4,e6,Nf3,c5,e3,Nc6,c3,g6,Nbd2,Bg7,Be2,O-O,Qb3,cxd4,exd4,d5,O-O-O,Re8,h4,h5,Bd3,Ng4,Rdf1,e5,dxe5,Ncxe5,Nxe5,Bxe5,Bxe5,Nxe5,Bb1,Be6,Qc2,Ng4,Nf3,Bf5,Qd2,Bxb1,Kxb1,Qd6,Ng5,Rad8,Re1,Qc6,Qf4,Qf6,Qa4,Rxe1+,Rxe1,Qf5+,Ka1,Qxf2,Re8+,Rxe8,Qxe8+,Kg7,a3,Qf1+,Ka2,Qc4+,Kb1,Qf1+,Kc2,Qf2+,Kb3,Qb6+,Ka2,Qf6,Qa4,a6,Qd4,Qxd4,cxd4,Ne3,g3,f6,Ne6+,Kf7,Nc5,Nc4,Nxb7,a5,Nc5,Nd2,Nd3,Ne4,b4,Nxg3', 'bxa5,Ne2,a6', 'https://lichess.org/training/vIuQK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('viusD', 'Rapid', 'MelleMK', 1817, 'deepthinking', 1818, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,O-O,Bc5,Re1,Ng4,d4,exd4,cxd4,Bb6,h3,Nf6,d5,Na5,e5,Nh7,e6,dxe6,Bb5+,c6,dxc6,Nxc6,Qa4,Bd7,Rd1,O-O,Nc3,Qc7,Ne4,a6,Bf1,Rfd8,Nd6,Nf6,Bf4,e5,Bh2,Nd4,Qb4,Nc2,Qd2,Nxa1,Rxa1,Ba5,b4,Bb6,Bxe5,Bc6,Rc1,Ne4', 'Nxe4,Rxd2,Bxc7', 'https://lichess.org/training/viusD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIUuH', 'Classical', 'ynsemre10', 1647, 'brenosct', 1711, 'e4,e5,f4,d6,Nf3,Bg4,Bc4,Nc6,O-O,Nf6,d3,Nd4,fxe5,dxe5,Bg5,Bxf3,Rxf3,Nxf3+,Qxf3,Be7,Qg3,Qd4+,Kf1,Qxb2,Nd2,O-O,Rb1,Qxc2,Qxe5,Rfe8,Qxc7,b6', 'Bxf7+,Kxf7,Qxc2', 'https://lichess.org/training/vIUuH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ViVUr', 'Rapid', 'MarcelloEsse', 1643, 'Jonbvburleigh', 1644, 'd4,d5,Nf3,Nc6,Nc3,e6,g3,Bb4,Bd2,Nge7,Bg2,O-O,O-O,b6,a3,Bd6,e3,a5,e4,dxe4,Nxe4,Bb7,Nxd6,cxd6,c3,Ba6,Re1,d5,Bg5,f6,Bd2,e5,dxe5,fxe5,Nxe5,Nxe5,Rxe5,Bb7,Bg5,Rf7,Qe1,Kf8,Rxe7,Rxe7,Bxe7+,Qxe7,Qd2,Qd6,h3,Re8,Rd1,b5,Bxd5,Bxd5,Qxd5', 'Re1+,Kh2,Rxd1', 'https://lichess.org/training/ViVUr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIyJ5', 'Classical', 'Draftyy', 1811, 'arturdead', 1906, 'e4,c5,Nf3,d6,d4,Nf6,Bd3,cxd4,Nxd4,Nc6,Nxc6,bxc6,f4,Bg4,Be2,Qa5+,Bd2,Qh5,Bxg4,Nxg4,h3', 'Qh4+,Ke2,Qf2+', 'https://lichess.org/training/vIyJ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VIZ0T', 'Rapid', 'MartiMasri', 1616, 'thelaanie', 1708, 'e4,c5,Nf3,Nc6,Bb5,g6,d4,cxd4,Nxd4,Bg7,Be3,Nxd4,Bxd4,Qa5+,Nc3,Bxd4,Qxd4,f6,O-O,e5,Qc5,b6,Qc4,Ne7,Rad1,a6,b4,axb5,Nxb5,Qa4,Nc7+,Kf8,Nxa8,Qxa8,Rd6,Kg7,f4,b5,Qxb5,Qxe4,fxe5,fxe5,c4,Qe3+,Kh1,Rf8,Rdd1,Rxf1+,Rxf1,d6', 'Qe8,Nf5,Qxc8', 'https://lichess.org/training/VIZ0T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vIz7D', 'Classical', 'zlatan4', 1635, 'GrantBarkway', 1654, 'c4,e5,Nc3,Nf6,g3,d5,Bg2,d4,Nd5,Nxd5,Bxd5,c6,Bg2,f5,d3,Bb4+,Bd2,Qa5,e3,Bxd2+,Qxd2,Qxd2+,Kxd2,dxe3+,fxe3,O-O,b4,a5,Rb1,axb4,Rxb4,Rxa2+,Ke1,Ra1+,Kf2,e4,d4,g5,Nh3,Ra2+,Kf1,g4,Nf4,Na6,Rb1,c5,Rd1,cxd4,Rxd4,Nc5,h4,gxh3,Rxh3,Nd3,Nxd3,exd3,Rxd3,f4,gxf4,Bxh3,Bxh3,Rfa8,c5,Ra1+,Kf2,R8a2+,Kf3,Rh1', 'Be6+,Kf8,Bxa2', 'https://lichess.org/training/vIz7D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vj06Y', 'Classical', 'Wladi1977', 1771, 'bibob', 1788, 'e4,c5,Bc4,e6,d3,d5,exd5,exd5,Qe2+,Be7,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Nf6,O-O,O-O,Bg5,Re8,Ne5,Qf5,f4,h6,Ng4,Bd6', 'Nxf6+,gxf6,Qxe8+', 'https://lichess.org/training/Vj06Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VJ0GQ', 'Rapid', 'MasterScorpion', 1747, 'rolvinschjki', 1627, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,Nxd4,Nxd4,exd4,Qxd4,d6,Bg5,Be7,e5,dxe5,Qxe5,O-O,Bd3,Re8,O-O-O,Ng4,Qf4', 'Bxg5,Qxg5,Qxg5+', 'https://lichess.org/training/VJ0GQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vj2DM', 'Rapid', 'atom-vinter', 1632, 'MMGG123', 1942, 'e4,e5,d3,Nf6,Bg5,h6,Bh4,Be7,h3,O-O,Nf3,Nc6,Be2,d5,Nbd2,dxe4,dxe4,Be6,O-O,a6,c4,Qd6,Qc2,Rad8,Rad1,Qc5,a3,Nd4,Nxd4,Qxd4,Bxf6,Bxf6,b4,Qb6,c5,Qc6,Nc4,Rd7,Na5,Rxd1,Rxd1,Qe8,Nxb7,Qa8,c6,Re8,a4,Bc8,Na5,Be6,Qc3,Rd8,Rxd8+,Qxd8,b5,axb5,axb5,Qd4,Qc2', 'Qa1+,Kh2,Qxa5', 'https://lichess.org/training/vj2DM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vj2jw', 'Blitz', 'mix4u', 1813, 'drOva', 1726, 'e4,c6,Nf3,d5,Nc3,Bg4,d4,Nf6,e5,Ne4,Bd3,Nxc3,bxc3,e6,h3,Bh5,a4,c5,g4,Bg6,Bxg6,fxg6,Ng5,Qd7,f4,Be7,Nf3,O-O,O-O,Nc6,Qe1,a6,Qg3,Qd8,Kh2,g5,fxg5,cxd4,cxd4,Nxd4,Nxd4,Rxf1,Nxe6,Qb6,Be3,Qxe6,Rxf1,Rf8,Rxf8+,Bxf8,Qf4,Qc6,Qf5,Qxa4,Qe6+,Kh8,Qxd5,Qxc2+,Kg3,Qc7,h4,Qc3,Kf4,Qb4+,Kf5', 'g6+,Kf6,Qe7#', 'https://lichess.org/training/Vj2jw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VJ3vN', 'Rapid', 'ksivany', 2140, 'Ma-h-f', 2271, 'd4,d5,Bf4,Bf5,c4,dxc4,e3,Bxb1,Rxb1,e5,Bxe5,Bb4+,Ke2,Nf6,Nf3,O-O,a3,Bd6,Qc2,b5,g3,Nbd7,Bxd6,cxd6,Bg2,Qe7,Rhc1,d5,Qf5,g6,Qc2,a5,b3,Qxa3,bxc4,bxc4,Ne5,Nxe5,dxe5,Ne4,Bxe4,dxe4,Qxe4,Rac8,Kf1,c3,Rc2,Rfe8,Rbc1,Qb4,Qd5,Red8,Qa2,Qe4,Qxa5,Rd3,Rxc3,Rcxc3,Rxc3', 'Qh1+,Ke2,Qd1#', 'https://lichess.org/training/VJ3vN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vj5gm', 'Blitz', 'NM Chesspirate_Channel', 2391, 'danielcuba', 2440, 'd4,Nf6,Nc3,e6,e4,d5,Bd3,dxe4,Nxe4,Bd7,Nf3,Bc6,Qe2,Nbd7,c3,Be7,Bf4,O-O,O-O-O,Nxe4,Bxe4,Bxe4,Qxe4,c6,h4,Nf6,Qe2,Qd5,Kb1', 'Qf5+,Ka1,Qxf4', 'https://lichess.org/training/vj5gm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vJ6Cb', 'Classical', 'johan007', 1740, 'der_weisse_turm', 1749, 'e4,e5,a3,Nf6,Nc3,Nc6,Nf3,Bc5,h3,O-O,Bc4,Na5,Ba2,Re8,d3,b6,O-O,Bb7,Ng5,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,b4,Bd4,c3,Bxc3,Rb1,Nc6,Qh5,h6,Ne4,Qxd3,Nf6+,gxf6,Qg4+,Qg6,Qxg6+,fxg6,Bxh6,g5,Rbc1,Bd4,Rxc6,Re7,Rxf6,Kh7,Bxg5,Rg7,h4,e4,Rh6+,Kg8,Rd1,c5,bxc5,bxc5,Bf6,Bxf6,Rxf6,Rc8,Re6,Rg4,g3,c4,Rd4,c3,Rexe4', 'Rxe4,Rxe4,c2', 'https://lichess.org/training/vJ6Cb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VJ8wi', 'Classical', 'Gabex2me', 1673, 'IvanMF2400', 1909, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bf4,O-O,Nf3,Nbd7,Bd3,c5,e5,Ne8,dxc5,dxe5,Be3,e4,Bxe4,Bxc3+,bxc3,Qa5,Qb3,Nxc5,Bxc5,Qxc5,O-O,Nd6,Bc2,Qxc4,Qb2,Ne4,Rfe1,Qxc3,Qb1,Nd2,Nxd2,Qxd2,Rxe7,Rb8,Bb3,Bf5,Qf1,Bd3,Qc1,Qxc1+,Rxc1,Rbc8,Rxc8,Rxc8,Bxf7+', 'Kf8,Re1,Kxf7', 'https://lichess.org/training/VJ8wi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vJCzu', 'Blitz', 'Nomen-Nescio', 2269, 'CM IngOscarArdila', 2222, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d6,Bg5,O-O,e3,Nbd7,Be2,b6,O-O,Bb7,Qc2,Qe8,Rad1,a6,e4,e5,d5,Nc5,b4,Ncd7,a3,h6,Bd2,Nh5,g3,Qe7,Rfe1,Ndf6,Nh4,Bc8,Be3,Bh3,c5,bxc5,bxc5,Ng4,Bxg4,Bxg4,f3,Bh3,Rb1,Nf4,Rb7,Rfb8,c6,Rc8,Bf2,Bf6,gxf4,Bxh4,fxe5', 'Qg5+,Bg3,Bxg3', 'https://lichess.org/training/vJCzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vjEZW', 'Rapid', 'agn050', 1748, 'Petr5_B', 1729, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Nxc3,bxc3,Bxc3,Ba3,d6,Rc1,Ba5,Qa4,a6,d5,b5,Bxb5,axb5,Qxb5,Bb6,Rfe1+,Kf8,dxc6,Rxa3,Qb2,Ra5,Re2,Bc5,Rce1,Be6,Nd4,Rxa2', 'Nxe6+,fxe6,Qxa2', 'https://lichess.org/training/vjEZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vjgfc', 'Blitz', 'guido14', 1518, 'anasahat', 1519, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,Bd3,h6,O-O,c6,Nc3,cxd5,exd5,Bg4,Be4,f5,Bxf5,Bxf5,Nh4,Nf6,f4,Nexd5,Nxd5,Nxd5,Nxf5,Qb6+,Kh1,O-O-O,fxe5,dxe5,Qg4,Kb8,Ng3,Bd6,Ne4,g5,Nxd6,Qxd6,c3,Nf4,Bxf4,exf4,Qf3,Qd2,b3,Rd3,Qe4,Qxc3,Rac1,Qd4,Qe7,Rd8', 'Qc7+,Ka8,Qc8+,Rxc8,Rxc8#', 'https://lichess.org/training/Vjgfc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vJGl4', 'Rapid', 'allanepstein', 1789, 'darko9', 1822, 'd4,d5,Bf4,c5,e3,Nc6,c3,Nf6,Nd2,c4,Be2,e6,Ngf3,h6,h3,Bd6,Bxd6,Qxd6,g4,Ne4,Nxe4,dxe4,Nd2,Ne5,dxe5,Qxe5,Qc2,f5,gxf5,exf5,O-O-O,b5,Nxc4,bxc4,Qa4+,Ke7,Qa3+,Kf6,Rd6+,Be6,Bxc4,Rhe8,Rhd1,Kg5,Qa6,Bxc4,Rg1+,Kh4', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/vJGl4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vJJ7V', 'Classical', 'IslamRyaan', 1740, 'wizzwel2700', 1872, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,a4,b4,d3,a5,Nbd2,d6,h3,Nd7,c3,Nc5,Bd5,Bd7,d4,Nd3,Re3,Nf4,Bb3,Bg5,Nxg5,Qxg5,Rg3,Qh5,Nf3,Kh8,Rg5,Nxh3+,gxh3,Qxh3,dxe5,Bg4,Qd3,Bxf3,Rg3,Qh5,Qxf3,Qxf3,Rxf3,Nxe5,Rg3,f5,cxb4,axb4,Bd2,c5,Rd1,fxe4,Bg5,Nd3,Be7,Rxf2,Rdxd3,exd3,Kxf2,Re8,Bxd6,Re2+,Kf1,Rxb2,Be5,Rxb3,Bxg7+,Kg8,Ke1', 'd2+,Kxd2,Rxg3', 'https://lichess.org/training/vJJ7V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VJJlF', 'Blitz', 'zetazor', 1777, 'gorakhsahani1', 1769, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,g6,Bg5,Bg7,Qd2,Nf6,O-O-O,O-O,Bh6,Qb6,Bxg7,Kxg7,Kb1,Bg4,Be2,Bf5,h3,Na6,g4,Bc8,Ne5,Qa5,h4,Nd5,Nxd5,Qxd2,Rxd2,cxd5,h5,Nb4,a3,Nc6,f4,Nxe5,dxe5,e6,h6+,Kg8,g5,Bd7,Rd4,a6,a4,Rfc8,Rb4,Bc6,Rf1,Kf8,Bd3,Ke7,b3,Rc7,c4,dxc4,Rxc4,Rd8,Rc3', 'Rxd3,Rxd3,Be4,Kb2,Bxd3', 'https://lichess.org/training/VJJlF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vjJST', 'Classical', 'sonimanoj', 1917, 'NIMESHBOSS999', 1889, 'e4,e5,Nf3,d6,h3,Nf6,d3,Nc6,Be2,d5,exd5,Nxd5,c3,Be7,O-O,O-O,Re1,Bd6,Bd2,f5,Qc1,e4,dxe4,fxe4,Ng5,e3,Bxe3,Nxe3,Qxe3,Bf4,Bc4+,Kh8,Nf7+,Rxf7,Qe8+,Rf8,Qh5,Qg5,Re8,Bf5,Rxa8,Rxa8,Qxg5,Bxg5,g4,Bg6,Na3,Rd8,Rf1,Bd3,Re1,Bxc4,Nxc4,h6,Kg2,b6,Re2,Ne7,Kg3,Ng6,a4,Bh4+,Kh2,Rf8,Kg1,Nf4,Re5,Nxh3+,Kg2,Nf4+,Kf1,Nd3,Re2,Nxf2,Kg1,Nh3+,Kh1,Nf2+,Kg2,Nxg4,Kh3,Bg5,Kxg4,Rf4+,Kh5,Kh7,Rh2,Rxc4,b4,c6,Rh3,a6,a5,c5,axb6,cxb4,b7,bxc3,b8=Q', 'g6#', 'https://lichess.org/training/vjJST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VjJvZ', 'Classical', 'Napudno', 2198, 'Agglomerate-1984', 2105, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nf3,Be7,O-O,O-O,Nd5,Nxd5,exd5,Bg4,h3,Bh5,Be3,Nd7,g4,Bg6,Kg2', 'e4,Nd4,exd3', 'https://lichess.org/training/VjJvZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VjL43', 'Rapid', 'ChessAtNight', 1764, 'likedwise', 1729, 'd4,d5,Nf3,Nf6,e3,Nc6,a3,a6,b3,Bg4,Nbd2,Ne4,Be2', 'Nc3,Bb2,Nxd1', 'https://lichess.org/training/VjL43');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VJmEh', 'Blitz', 'EarthRed', 1656, 'ronvio', 1675, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Bxc6,bxc6,O-O,Be7,f4,Nf6,Nc3,O-O,Kh1,Re8,Nf3,Bg4,Qd3,h6,Be3,a5,a4,Rb8,b3,Rb4,Bg1,Bf8,Rae1,Nh5,h3,Ng3+,Kh2,Nxf1+,Rxf1,Bh5,g4,Bg6,f5,Bh7,Be3,g6,Rg1,Bg7,Bf4,Qe7,e5,Rxf4,f6,Bxf6,exf6,Qxf6,Rg3,d5,Kg2,g5,Qd2,Qd6,Nd4,Be4+,Nxe4,Rfxe4,Rf3,c5,Nf5,Re2+,Qxe2,Rxe2+,Kf1,Rxc2,Nxd6,cxd6,Rf6,Rc3,Rxh6,Rxb3,Rxd6,d4,Kg2,Kg7,Rd5,d3,Rxc5,Rb2+,Kf1,d2,Ke2,Rb3,Kxd2,Rxh3,Rxa5,f6,Rc5,Rg3,Rc4,Ra3,Ke2,Kf7,Rd4,Ke6,Kf2,f5,gxf5+,Kxf5,Rb4,g4,Kg2,Kg5,Kf2,Kh4,Kg2,Ra2+,Kg1,Kh3,Rb3+,g3,Rb8', 'Ra1+,Rb1,Rxb1#', 'https://lichess.org/training/VJmEh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vjmZL', 'Rapid', 'einishiyuki', 1624, 'ahmed_imad', 1653, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,Bxc6,bxc6,c3,e6,d3,Ne7,Be3,Qb6,Nbd2,Qxb2,Nc4,Qxc3,Nd6+,Kf8,Rc1,Qa5,Bxc5,Bh6,Rc2,Kg7,Ne5,f6,Nxc8,Raxc8,Ng4,Ng8,Nxh6,Nxh6,Re1,Nf7,Re3,d6,Bd4,c5,Bc3,Qb6,Rf3,e5,Rb2,Qc6,h4,Rb8,Qc2,Rb6,Rxb6,axb6,h5,Ng5,Rg3,Ra8,hxg6,hxg6,Qb3,b5,Rxg5,fxg5,Qe6,Re8', 'Bxe5+,dxe5,Qxc6', 'https://lichess.org/training/vjmZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VJNIJ', 'Rapid', 'K-N-M', 1962, 'benwe10', 1932, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,O-O,Nxe4,Qe1,Nf6,Nxe5,Be7,d3,h6,Be3,O-O,Nc3,Bb4,a3,Bd6,Nc4,Bf5,h3,Re8,Qd2,Qd7,Nxd6,cxd6,f3,d5,g4,d4,gxf5,dxe3,Qe2,Qxf5,Ne4,Nxe4,dxe4,Qxh3,Qxe3,Re6,Kf2,Qh4+,Ke2,Rd8,Qxa7,f5,Rad1,Rxd1,Kxd1,fxe4,Qxb7,e3,Qc8+,Kh7', 'Qxe6,Qd4+,Kc1', 'https://lichess.org/training/VJNIJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vJNj7', 'Rapid', 'Aboalnaga', 2097, 'JuneIbanez', 2102, 'c4,Nf6,Nc3,d6,g3,c6,Bg2,Nbd7,Nf3,Qc7,d4,e5,dxe5,dxe5,O-O,Be7,b3,O-O,Bb2,Re8,Rc1,Bf8,Nd2,h6,Nde4,Nxe4,Nxe4,Nc5,Qc2,Bg4,h3,Bh5,Nxc5,Bxc5,Rcd1,Bg6,Be4,Bxe4,Qxe4,Qe7,Rd3,Rad8,Rfd1,Rxd3,Rxd3,f6,a3,Bxa3,Bxa3,Qxa3,Qf5,Kf7,Rd7+,Re7,Qh5+,Ke6,Qg4+,Kf7,Qh5+,g6,Rxe7+,Kxe7,Qxg6,Qxb3,Qxh6,Qxc4,Qh7+,Qf7,Qb1,b5,Qa1,Kd8,h4,Qc7,h5,Qh7,g4,Kc8', 'Qa6+,Kd8,Qxc6', 'https://lichess.org/training/vJNj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vJoc4', 'Blitz', 'carapace', 1590, 'xzrj', 1583, 'b4,d5,Bb2,Nf6,e3,Bg4,b5,e6,Be2,Bxe2,Nxe2,c6,a4,Bc5,Bxf6,Qxf6,d4,Bb4+,Nd2,O-O,c3,Bd6,Nf3,Nd7,Ng3,c5,O-O,Rfc8,Rc1,cxd4,exd4,Nb6,Nd2,Rc7,Qg4,Rac8,Ne2,Nc4,Nxc4,Rxc4,a5,Qd8,a6,bxa6,bxa6,Qc7,f4,Qa5,Rf3,Qxa6,Rg3,g6,h4,Qa2,h5,Qb2,hxg6,hxg6,Qh4,Qxe2,Rh3,Kf8,Qg5,Ke8,Rh8+,Kd7,Rxc8,Rxc8,Qg3,Qd2,Ra1,Bxf4,Rxa7+,Kd8', 'Qh4+,Bg5,Qh8#', 'https://lichess.org/training/vJoc4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vjq5n', 'Blitz', 'PyroGX', 1721, 'hasanimahdy2', 1744, 'd4,Nf6,c4,d6,Nf3,Bg4,e3,e6,Be2,Nbd7,Nc3,Be7,e4,O-O,h3,Bxf3,Bxf3,d5,e5,Ne8,b3,dxc4,bxc4,f6,exf6,Nexf6,O-O,c6,Bb2,Nb6,Qd3,Qc7,c5,Nbd5,Nxd5,exd5,Rfe1,Rae8,Qf5,b6,Qd3,bxc5,dxc5,Bxc5,Rac1,Bb6,Ba3,Rxe1+,Rxe1,Rd8,Rc1,Qf4,Qc3,Ne4,Bxe4,Qxf2+,Kh1,dxe4,Qxc6,e3,Qe6+,Kh8,Bb2,Rg8,Qe5,e2', 'Qxg7+,Rxg7,Rc8+,Bd8,Rxd8+,Qf8,Rxf8#', 'https://lichess.org/training/vjq5n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vJq9p', 'Rapid', 'RedRakus', 1658, 'limitlessssss', 1636, 'd4,e6,c4,g6,e4,Bg7,Nf3,Ne7,Be2,O-O,O-O,f5,Nc3,fxe4,Nxe4,Nf5,Bg5,Qe8,Qb3,d6,Rad1,Kh8,Rfe1,Nc6,d5,exd5,cxd5,Ncd4,Nxd4,Bxd4,g4,Qxe4,gxf5,Rxf5,Be3,Bxe3,Qxe3,Qxe3,fxe3,Rg5+,Kf2,Bf5', 'h4,Rg4,Bxg4', 'https://lichess.org/training/vJq9p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VjqW3', 'Blitz', 'SiddiKing', 1687, 'Esat_Uluocak', 1720, 'd4,g6,Nf3,Bg7,c4,Nf6,Nc3,d6,Bg5,Bg4,e4,Nbd7,Be2,e5,d5,Nc5,O-O,h6,Bxf6,Bxf6,b4,Na6,Qb3,Qd7,a4,c6,b5,Nc7,dxc6,bxc6,bxc6,Qxc6,Nd5,Nxd5,cxd5,Qc7,Rfc1,Qd7,Rc6,O-O,Rac1,Rfc8,a5,Bg5,Nxg5,Bxe2,Nf3,Rab8,Qa4,Bb5', 'Rxc8+,Rxc8,Rxc8+,Qxc8,Qxb5,Qc1+,Qf1', 'https://lichess.org/training/VjqW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VjqZZ', 'Classical', 'chrisrib65', 1848, 'Tintin41', 1779, 'd4,Nf6,c4,g6,Nc3,Bg7,e3,d6,Bd3,O-O,Nf3,Nbd7,O-O,c5,Rb1,b6,h3,Bb7,d5,Nh5,Be2,Ne5,Nxe5,Bxe5,Bxh5,gxh5,Qxh5,Kh8,Ne4,Bf6,Nxf6,exf6,e4,Qe8,Qf3,Qe7,Bh6,Rg8,Rbe1,Rg6,Bd2,Rag8,g3,Bc8,g4', 'Bxg4,hxg4,Rxg4+', 'https://lichess.org/training/VjqZZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vjt6Q', 'Rapid', 'pva_78', 1754, 'poetandplayer', 1746, 'e4,e5,Nf3,Nc6,a3,Nf6,Nc3,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,Qe7,Bg5,h6,Bxf6,Qxf6,Nd5', 'Nf3+,gxf3,Qxd4', 'https://lichess.org/training/Vjt6Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vJWIo', 'Classical', 'shanjid20', 1890, 'Schillebold', 1944, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,Be7,d3,O-O,Bg5,c6,a3,Qc7,Qd2,Nbd7,h3,b5,Ba2,a6,Ne2,Bb7,Ng3,Rfe8,Bh6,g6,h4,Bf8,h5,d5,hxg6,fxg6,exd5,cxd5,Qg5,e4,dxe4,Nxe4,Bxd5+,Bxd5,Qxd5+,Kh8,Nxe4,Nf6,Qd4', 'Rxe4+,Be3,Rxd4', 'https://lichess.org/training/vJWIo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vjX4f', 'Blitz', 'dvml', 1706, 'yourboiii', 1620, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Bc5,c3,b5,Bb3,O-O,O-O,Re8,Re1,Bb7,d4,exd4,cxd4,Bb6,e5,Ng4,h3,Ngxe5,dxe5,Nxe5,Nxe5,Qh4,Qe2,Rxe5,Qxe5', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/vjX4f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vK0lA', 'Classical', 'FariborzRahimi', 1682, 'jonarmani', 1831, 'd4,d5,c4,e6,Nc3,c6,e3,Nf6,Nf3,Bb4,Bd2,O-O,Qc2,Re8,a3,Bf8,Be2,Nbd7,O-O,e5,dxe5,Nxe5,cxd5,Nxd5,Nxd5,Qxd5,Nxe5,Rxe5,Rad1,Bf5,Qc4,b5,Qc1,Qe6,Bc3,Rc5,b4,Rd5,f3,Rxd1,Rxd1,c5,e4,Bg6,Bxb5,cxb4,Bxb4,Rc8,Qb2', 'Qb6+,Qf2,Qxb5', 'https://lichess.org/training/vK0lA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vk0zp', 'Rapid', 'pantaleo', 1887, 'Silent180', 1813, 'd4,Nf6,Nf3,e6,Bg5,d5,c4,Be7,e3,Ne4,Bxe7,Qxe7,c5,O-O,Bd3,Nc6,Bxe4,dxe4,Nfd2,f5,g3,Nb4,O-O,Nd3,Qc2,e5,d5,Nxc5,Nc3,Nd3,Nc4,a6,Rfd1,b5,Na5,Bd7,a3,h5,b4,h4,Nb3,hxg3,hxg3,g6,Kg2,Kg7,Rh1,Rh8,Nc5,Nxc5,bxc5,Qxc5,Qb2,Kf6,Rac1,c6', 'Nxe4+,fxe4,Rxc5', 'https://lichess.org/training/vk0zp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vk2c3', 'Blitz', 'Mevsyou2', 1903, 'bronsteniano', 1909, 'd4,Nf6,Bg5,d6,Nd2,Nbd7,e4,e5,d5,Be7,Ngf3,h6,Be3,Ng4,Bd3,Nxe3,fxe3,Nc5,Qe2,Bg4,Qf2,Bxf3,gxf3,O-O,O-O-O,Nxd3+,cxd3,c6,dxc6,bxc6,Rdg1,d5,Qg3,Bf6,f4,Kh8,Nf3,exf4,exf4,Rg8,e5,Be7,f5,Bg5+,Kb1,c5,h4,Be3,Rg2,c4,d4,c3,b3,Qa5,Re1,Bd2,Nxd2,cxd2,Rd1,Rac8,Rgxd2,Rc3,Qg4,Rgc8,Rg1,Rg8,f6,Rxb3+,axb3,Qxd2', 'fxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/Vk2c3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vk2KY', 'Classical', 'Iam16l31l1l28', 1957, 'mkl48', 2034, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be2,a6,O-O,Be7,f4,Qc7,Be3,O-O,Qe1,b5,a3,Bb7,Bf3,Nbd7,Qg3,Kh8,Qf2,Nc5,e5,Nfe4,Nxe4,Bxe4,b4,Bxf3,exd6,Bxd6,bxc5,Bxc5,Nxf3,Bxe3,Qxe3,Qxc2,Rfc1,Qb2,Qe4,Rac8,Rd1,Rfd8,Ng5,Rxd1+,Rxd1,g6,Nxf7+,Kg7,Qxe6,Rc1,Rxc1,Qxc1+,Kf2,Qxf4+,Ke2,Qxf7,Qxa6,Qc4+,Kf3,h5,Qa7+,Kh6,Qe3+,g5,Qb6+,Kg7,Qb7+,Qf7+,Qxf7+,Kxf7,Ke4,Ke6,g3,g4,Kf4,Kf6,Ke4,Ke6,Kd4,Kd6,Ke4,Kc5,Kf5', 'Kc4,Kg6,Kb3,Kxh5,Kxa3', 'https://lichess.org/training/Vk2KY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vk4O7', 'Blitz', 'kingph31', 2211, 'FM HustlinHarper', 2360, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Qc7,O-O,Bc5,Nb3,Be7,Nc3,Nf6,Qe2,Nc6,h3,b6,a3,Bb7,Bg5,Ne5,Bh4,Ng6,Bg3,Nf4,Qe3,g5,Bxf4,gxf4,Qd4,f3,g4,Rg8,e5,Nxg4,hxg4,h5,Ne4,Rxg4+,Kh1,f5,exf6,Rg2,Ng3,Rxg3,fxg3,Qxg3,Rf2,O-O-O,Rg1', 'Qh3+,Rh2,f2+', 'https://lichess.org/training/vk4O7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vk5Ph', 'Rapid', 'endless_insomnia', 1967, 'Lengerso', 1938, 'Nf3,d5,d4,Nc6,Nc3,Nf6,g3,g6,Bg2,Bg7,Bf4,a6,O-O,b5,Re1,Bb7,a3,Rb8,Qd2,O-O,Bh6,Ne4,Nxe4,dxe4,Nh4,Qxd4,Qg5,Ne5,Bxg7,Kxg7', 'Nf5+,Kh8,Nxd4', 'https://lichess.org/training/vk5Ph');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vk6QE', 'Rapid', 'Rozeznanie', 1969, 'SallehAsah', 1989, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Naxb5,axb5,Bxb5,Bd7,Qh5,Nf6,Qh4,Be7,Bg5,h6,Bxf6,Bxf6,Qg3,O-O,Nd5,Qa5+,c3,Qxb5,Nxf6+,Kh8,Nxd7,Na5,Nxf8,Rxf8,b3,f5,c4,Qb4+,Ke2,fxe4,Qe3,Nc6,Rhd1,Rf4,g3,Rf6,Qxe4,Nd4+,Rxd4,exd4,Qxd4,Qb7,Re1,Re6+,Kd2', 'Qb4+,Qc3,Qxc3+,Kxc3,Rxe1', 'https://lichess.org/training/Vk6QE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vK7JL', 'Blitz', 'carequinha', 1897, 'cycad321', 1746, 'd4,e6,c4,d5,Nc3,Bb4,e3,Nf6,a3,Bxc3+,bxc3,O-O,Nf3,b6,Bd3,Bb7,O-O,Nbd7,a4,dxc4,Bxc4,Ne4,Qc2,Qf6,Ba3,Rfe8,Bd3,Qg6,Nd2,Ndf6,f3,Qg5,fxe4,Qxe3+,Kh1,Ng4,Rae1,Qh6,h3,Ne3,Rxe3,Qxe3,e5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/vK7JL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VK7yb', 'Rapid', 'pavel_ash', 1620, 'Gigs', 1637, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,e5,Be2,Nf6,O-O,Bb4,a3,O-O,axb4,Qxa1,Nxe5,Be6,b3,Nc6,Nxc6,bxc6,b5,cxb5,Nxb5,Qa5,Bb2,a6,Bc3,Qb6,Bd4,Qa5,Bc3,Qb6,Nd4,a5,Bf3,Ra6,Be2,Raa8,Bf3,Bd5,Bxd5,Nxd5,Qg4,a4,bxa4,Rxa4,h3,Nxc3,dxc3,Rfa8,Qe2,Qd6,g3,Qb6,Nb3,Qh6,Re1,Qc6,c4,Rxc4', 'Na5,Rxc2,Nxc6,Rxe2,Rxe2', 'https://lichess.org/training/VK7yb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vK8QP', 'Blitz', 'jjbarrera1', 1595, 'Jhosus123', 1759, 'e4,e5,Nf3,Nf6,d3,Nc6,Bg5,Be7,Bxf6,Bxf6,Be2,O-O,c3,d5,exd5,Qxd5,c4,Qd8,Nbd2,Nd4,Nxd4,exd4,Ne4,Bf5,O-O,Qd7,Nc5,Qc6,b4,b6,Ne4,Bxe4,dxe4,Qxe4,Bf3,Qg6,Bxa8,Rxa8,Qf3,Rf8,Rad1,Rd8,Rfe1,d3,Re3,d2,Re2,Qc2,Rexd2,Rxd2', 'Qa8+,Bd8,Qxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/vK8QP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vkAob', 'Rapid', 'apdm', 1697, 'kurubaco', 1836, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,Nc6,Bg5,Be7,Bb5,Bd7,Nd5,a6,Ba4,Nxd5,Bxe7,Qxe7,Qxd5,O-O,O-O,Rab8,c4,Rbc8,a3,Be6,Qd3,Na5,b3,Bg4,b4,Nc6,Rfd1,Nd4,h3,Bxf3,gxf3,Qg5+,Kh2,f5,Rg1,Qf4+,Kh1,Qxf3+,Qxf3,Nxf3,Rg3,Nd4,Bd7,Rxc4,exf5,Nxf5', 'Be6+,Kh8,Bxc4', 'https://lichess.org/training/vkAob');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VKaZm', 'Rapid', 'Ha_tfu_to_you', 1632, 'warlock66613', 1748, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,O-O,Be7,f4,O-O,Nc3,Nd7,Be3,Nb6,Bd3,Bg4,f5,Bf6,Qb4,Be5,Nd5,Nxd5,exd5,Qh4,Bf4,Bf6,Bg3,Qh5,Rf4,Be2,Bxe2,Qxe2,Re1,Qxc2,Rf2,Qd3,Rf3,Qa6,Qg4,Qxa2,Bf4,Qxd5,Rg3,g6,Qh5,Bg7,Qh4,Qxf5,Rf1,Qh5', 'Qxh5,gxh5,Bh6', 'https://lichess.org/training/VKaZm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VKbMR', 'Rapid', 'PacoToro', 2012, 'souusa', 2060, 'e4,e5,Nf3,Nf6,Nc3,Bc5,d4,Bxd4,Nxd4,exd4,Nb5,O-O,Qf3,Nxe4,Bd3,d5,Nxd4,c5,Ne2,Re8,O-O,Nc6,Bb5,Ne5,Qf4,Ng6,Qf3,Bd7,Bxd7,Qxd7,Nc3,Ne5,Qe3,Nxc3,Qxc3,b6,Qg3,Re6,Bf4,Rae8,Rfe1,d4', 'Rxe5,Rxe5,Bxe5', 'https://lichess.org/training/VKbMR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vkbo4', 'Rapid', 'LetTheMovesMoveYou', 1552, 'paulbaldi', 1641, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Be2,Nf6,Nc3,e5,O-O,h6,f4,exf4,Bxf4,Be7,e5,dxe5,Bxe5,Qb6+,Bd4,c5,Bb5+,Kf8,Bxf6,Bxf6,Qd5,Bb7,Qd7,Rd8,Qf5,Bc8,Qe4,Bxc3,Rxf7+,Kxf7,Rf1+,Kg8', 'Bc4+,Be6,Bxe6+,Qxe6,Qxe6+', 'https://lichess.org/training/vkbo4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vkBtm', 'Rapid', 'TSU80', 1867, 'giovas', 1991, 'e4,d6,d4,Nf6,Nc3,g6,Bc4,Bg7,Nge2,Bg4,O-O,O-O,h3,Bxe2,Qxe2,c5,dxc5,dxc5,f4,e6,e5,Nh5,Qf2,Bh8,g4,Ng7,Ne4,Ne8,g5,Nc6,c3,b6,h4,Ne7,Be2,Nf5,h5,Qc7,Bg4,Rd8,hxg6,fxg6,Bxf5,exf5,Nf6+,Nxf6,exf6,Bxf6,gxf6,Rxf6,Be3,Re6,Rad1,Rde8,Rfe1,Qc6,Rd2,h6,c4,Kg7,Rd5,Kf7,Rd3,R8e7,Qg3,Qe4,Rd2,Qxc4,Qh3', 'Rxe3,Rxe3,Qc1+', 'https://lichess.org/training/vkBtm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vKBuv', 'Rapid', 'petroleocrudo', 1724, 'newtnewt', 1663, 'd4,e6,c4,Nf6,Nc3,Bb4,Qc2,O-O,Bg5,Bxc3+,bxc3,h6,Bh4,d6,e4,e5,dxe5,dxe5,Rd1,Qe7,Nf3,Nbd7,Bd3,Qc5,O-O,Nh7,Bg3,f6,Be2,Nb6,Nh4,Be6,Ng6,Rfd8,Kh1,Nxc4,Bxc4,Bxc4,Rxd8+,Rxd8,Rd1,Rxd1+,Qxd1,Qd6,Qg4,Be6,Qe2,Bc4,Qg4,Be6,Qe2,Ng5,h4,Nf7,f4,Kh7,f5,Bd7,Bf2,a6,Kh2,Bb5,c4,Bd7,c5,Qc6,Qc4,Be8,Ne7,b5', 'Qxf7,Bxf7,Nxc6', 'https://lichess.org/training/vKBuv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vkcnn', 'Bullet', 'JeremyDuran', 2260, 'walnut05', 1667, 'e4,e5,Nc3,Nc6,Nf3,Nf6,Bc4,Bc5,d3,h6,h3,d6,a3,a6,g4,Be6,g5,hxg5,Bxg5,Bxc4,dxc4,Ne7,Bxf6,gxf6,Qe2,c6,O-O-O,Qc7,b4,Ba7,Rdg1,O-O-O,Rg7,Rdf8,h4,Ng6,h5,Nf4,Qf1,Rxh5', 'Rxh5,Nxh5,Qh3+,Kb8,Qxh5', 'https://lichess.org/training/vkcnn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VKdc9', 'Rapid', 'saltbeef', 1993, 'bieke', 2006, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Nxc3,Bb4,Bc4,Nf6,e5,d5,exf6,Bxc3+,bxc3,dxc4,Qe2+,Be6,fxg7,Rg8,Bh6,Qd3,Qxd3,cxd3,Kd2,O-O-O,Ng5,Ne7,Nxe6,fxe6,g4,Rd5,Rhe1,Kd7,Re3,c5,Rxd3,c4,Rxd5+,exd5,Ke3,Re8,Kd4,Ng8,Rb1,b6,Rb5', 'Re4+,Kxd5,Nf6#', 'https://lichess.org/training/VKdc9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VKe57', 'Rapid', 'danizito', 1781, 'dalilkurdi', 1790, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,e5,d5,Nf6,Nf3,Bg4,Be2,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,Qxd5,Qxd5,Nxd5,Bxe5,Nc6,Bg3,Rfe8,h3,Bxf3,gxf3,Nd4,Rd1,Rxe2+,Kf1,c5,Rxd4,Rxf2+,Bxf2,cxd4,Bxd4,Re8,Kf2,a6,Rg1,g6,Rg5,Nf4,Re5,Rd8,Bb6,Rd2+,Ke3,Rd6,Bc7', 'Nd5+,Rxd5,Rxd5', 'https://lichess.org/training/VKe57');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VKFLV', 'Blitz', 'edisupriadi', 1908, 'Islombek2003', 2114, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,d5,exd5,exd5,Bb5,Nf6,O-O,Be7,Ne5,Qc7,f4,O-O,d4,cxd4,cxd4,Ne4,Nc3,Bf5,Bd3,Nxd4,Bxe4,Bxe4,Nxe4,dxe4,Be3,Nc6,Qh5,Nxe5,fxe5,Bc5,Rae1,Bxe3+,Rxe3,Qc5,Re1,Rad8,Kh1,Rd2,Rxe4,Rxb2,Rh4,h6,Rg4,Qf2,Rg1,Rd8,Qxh6', 'Qxg1+,Kxg1,Rd1#', 'https://lichess.org/training/VKFLV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vKgPJ', 'Blitz', 'Zhyshko', 2254, 'NM notmisha', 2264, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Be7,Bf1,O-O,d4,Nf5,c3,Nxe5,Rxe5,d6,Re1,b6,Bd3,Nh4,g4,Bb7,Be4,d5,Bh1,Bd6,Nd2,Qg5,Nf1,Qf6,Ng3,Rae8,Re3,Bf4,Re1,Qg5,h3,f5,Rxe8,Rxe8,Bxf4,Qxf4,gxf5,Nxf5,Qg4,Qxg4,hxg4,Nxg3,fxg3,Re2,Rb1,c6,Bf3,Rd2,a3,Kf7,g5,Kg6,Re1,Rxb2,Re7,Bc8,Rxa7,Rb3,Rc7,Rxc3,Kf2,Bf5,Bxd5', 'Rc2+,Ke3,cxd5', 'https://lichess.org/training/vKgPJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VKh0Z', 'Rapid', 'AGR_FMM', 1818, 'ahuja01', 1789, 'd4,Nf6,e3,d5,Bd3,Bg4,f3,Bh5,Ne2,e6,Nd2,Bd6,f4,h6,Nf3,c6,Ng3,Bg6,c3,Ne4,Ne5,Qh4,Nxg6,fxg6,Qf3,O-O,Bd2,Nxg3,Qxg3,Qxg3+,hxg3,Rf6,e4,dxe4,Bxe4,Nd7,c4,Bc7,O-O-O,Nb6,b3,Rd8,Bc3,g5,fxg5,hxg5,d5,Rf2,Bh7+,Kf8,Rhf1,Bxg3,Rxf2+,Bxf2,Rf1,exd5,Rxf2+,Ke7,Bxg7,Rd7,Bf6+,Kd6,Bd3,Rf7,Rf5,Ke6,cxd5+,Nxd5,Bxg5,Rxf5,Bxf5+,Kxf5,Bd2,Kg4,Be1,Nf4,g3', 'Nd3+,Kd1,Nxe1,Kxe1,Kxg3', 'https://lichess.org/training/VKh0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vki8n', 'Rapid', 'lionfish45', 1601, 'SundaysAreForBishop', 1671, 'd4,Nf6,e4,Nxe4,Bd3,Nf6,Bg5,Nc6,Nc3,Nxd4,Bxf6,gxf6,Bc4,e5,Qh5,Ne6,O-O-O,c6,Bxe6,Qe7,Bc4,d5,Bb3,Be6,Nf3,d4,Ne4,Bxb3,cxb3,a5,Nh4,a4,Nf5,Qb4,Nxf6+,Kd8,Qxf7,Kc8,Qd7+,Kb8,Ne8,axb3,Nfd6,Qc5+,Kb1', 'Qc2+,Ka1,Rxa2#', 'https://lichess.org/training/vki8n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VkIGS', 'Blitz', 'IM DrMelekess', 2468, 'AndreyKostin', 2282, 'd4,d5,Nf3,Nf6,e3,c5,c4,Nc6,Nc3,cxd4,exd4,e6,Be2,dxc4,O-O,Be7,Bxc4,Nd5,Nxd5,exd5,Bb3,Be6,Bf4,O-O,Re1,Bf6,Ne5,Rc8,Qd2,Qa5,Qe3,Qb6,Rad1,Na5,h3,Nxb3,axb3,Rc2,Ng4,Bxg4,hxg4,Qe6,Qd3,Qc6,g5,Bd8,Qf3,Rxb2,Rc1,Rc2,Rxc2,Qxc2,Bd6,Ba5,Re7,Qc1+,Kh2,Qxg5', 'Qxf7+,Rxf7,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/VkIGS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VkINd', 'Blitz', 'FM chess20082015', 2428, 'KokeFischer', 2184, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bf4,g6,e3,Bg7,Bd3,O-O,Nge2,Bf5,O-O,Bxd3,Qxd3,a6,Rac1,Nc6,Na4,Nd7,h3,e6,a3,Rc8,b4,Nb6,Nxb6,Qxb6,Nc3,Qa7,Na4,Rfe8,Rc3,Ne7,Rfc1,Rxc3,Rxc3,Rc8,Qc2,Qa8,Nb6,Rxc3,Qxc3,Qd8,Qc5,Nc6,Na4,Bf8,Qc3,Bd6,Bxd6,Qxd6,Nc5,Qc7,h4,h5,g3,Ne7,Qb3,Qc6,a4,Qb6,b5,a5,Nd7,Qc7,Ne5,b6,Kg2,Kf8,Qd1,Ke8,Qf3,Nf5,Nc6,Qd6,Qd1,Qc7,Qc2', 'Qxg3+,fxg3,Nxe3+,Kh3,Nxc2', 'https://lichess.org/training/VkINd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VkiRb', 'Rapid', 'beppe88', 1941, 'ZoveVienna', 1972, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d6,e4,Nbd7,Be2,e5,d5,c6,O-O,O-O,Bg5,cxd5,exd5,Qc7,Nd2,Re8,Nde4,h6,Be3,Nb6,Qd2,Nxc4,Bxc4,Qxc4,Bxh6', 'Nxe4,Nxe4,Qxe4', 'https://lichess.org/training/VkiRb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VkizJ', 'Classical', 'radek40', 1658, 'symphonic', 1696, 'e4,e5,Nf3,d6,d4,Be7,Be3,Bg4,h3,Bxf3,Qxf3,c6,dxe5,dxe5,Bc4,Nf6,O-O,Qc7,a3,Nbd7,Nc3,h6,Bd3,a6,Qe2,Nc5,b4,Nxd3,cxd3,O-O,Rac1,b5,f4,exf4,Bxf4,Bd6,Bxd6,Qxd6,e5,Qd4+,Kh1,Nd7,e6,fxe6,Qxe6+,Kh8,Qe4', 'Rxf1+,Rxf1,Qxc3', 'https://lichess.org/training/VkizJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vKL9v', 'Blitz', 'cptcanuck', 1650, 'LachesisQ12', 1644, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bb4,O-O,h5,Bxc6,bxc6,Nxe5,Qe7,Nf3,h4,h3,d6,Re1,Be6,a3,Bc5,b4,Bb6,Na4,O-O-O,Nxb6+,cxb6,d4,Nd7,Bg5,f6,Bxh4,g5,Bg3,Rh7,d5,Bxh3,gxh3,Rdh8,dxc6,Rxh3,cxd7+,Qxd7,Qxd6', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/vKL9v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VkLHe', 'Rapid', 'zerefudragnilu', 1758, 'Relmasry', 2001, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,g6,d3,Bg7,Be3,O-O,Qd2,Re8,Bh6,Bh8,Ng5,d5,exd5,Na5,Nc3,Nxb3,axb3,Ng4,Nge4,f5,h3,Nxh6,Qxh6,fxe4,Nxe4,Qe7,f4,Qg7,Qh4,exf4,Rxf4,Bf5,Ng5,h6,Nf3,Bd7,Qf2,g5,Re4,Rxe4,dxe4,Rf8,Qg3,Rf4,c3,Rxe4,Qf2,Rf4,Qc5,g4,hxg4,Bxg4,Nd4,Rxd4,cxd4,Qxd4+,Qxd4,Bxd4+,Kh2,Bxb2,Rxa6,h5,Ra7,Kf8,Kg3,Ke8,Kf4,Kd7,Rb7,Be2,Ke3,Bf1,g3,Bc3,Kf2,Bd3,Ke3,Bf1,Kf2,Bd3,Ke3,Bf5,Rxb5,Kd6,Kf4,Bg4,Ke4,Bb2,Ra5,Bh3,Ra2,Be5', 'Ra6+,Ke7,Kxe5', 'https://lichess.org/training/VkLHe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VKo4i', 'Classical', 'GremioImortal', 2002, 'Heisenburg77', 1869, 'e4,g6,d4,Bg7,Be3,c5,Nf3,Nc6,c3,cxd4,cxd4,e6,Nc3,a6,Bc4,b5,Bb3,Nge7,d5,exd5,exd5,Ne5,Ng5,Nc4,Qf3,Nf5,Nxf7,Kxf7,g4,Ne5', 'd6+,Ke8,Qxa8', 'https://lichess.org/training/VKo4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VKofy', 'Rapid', 'Ernest_paris', 1830, 'Samhuy', 1830, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,Nd7,Be2,e5,Be3,Ngf6,O-O,O-O,Qd2,Ng4,Bg5,f6,Bh4,g5,Bg3,f5,exf5,Rxf5,Bd3,Rf8,dxe5,Ndxe5,Nxg5,Nxd3,cxd3,Bxc3,bxc3,Bf5,Ne4,Re8,Rfe1,Bg6,h3,Ne5,Bxe5,Rxe5,Qf4,Qf8,Qxf8+,Rxf8,f3,b6,d4,Ree8,Re2,d5,Ng3,Rxe2,Nxe2,Re8,Re1,Bd3,Kf2,Bc4,a3,c6,Nf4,Rxe1,Kxe1,b5,Ne6,a6,Nc5,a5,Nb7,a4,Nd6,Kf8,Kf2,Bd3,g4,Ke7,Nf5+,Bxf5,gxf5,Kf6,Ke3,Kxf5,f4,h5,Kf3,Ke6,Ke3,Kd6', 'f5,c5,dxc5+', 'https://lichess.org/training/VKofy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vkolu', 'Rapid', 'seo-alex', 1620, 'Mali_Viribus', 1629, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Nxc6,Qxc6,Nc3,Bb4,Qd4,d6,Bb5,Bxc3+,Qxc3,Qxb5,Qxg7,Qb4+,Bd2,Qxe4+,Kd1,Bg4+,Kc1,Bf5', 'Re1,O-O-O,Rxe4', 'https://lichess.org/training/Vkolu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VkONE', 'Blitz', 'ChippeRock', 1753, 'Sibi06', 1774, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,a6,a4,Na5,Ba2,c4,Ne5,Qc7,f4,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/VkONE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vkR4X', 'Classical', 'Dialmy', 1693, 'neno26', 1697, 'e4,c6,Bc4,Nf6,d3,d5,exd5,cxd5,Bb3,e5,h3,Nc6,Bg5,Be6,Nf3,Be7,Bxf6,Bxf6,O-O,O-O,Re1,Qd7,Kh2,Bxh3,gxh3,e4,dxe4,Rfe8,e5,Bxe5+,Nxe5,Nxe5,Nd2,Re6,Re3,Rh6,Qf1', 'Ng4+,Kg1,Nxe3', 'https://lichess.org/training/vkR4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vKrG2', 'Classical', 'Abomenation', 1675, 'albaz', 1689, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Nf6,d4,d6,Bg5,Be7,Qe3,h6,Bh4,O-O,O-O,c6,f4,d5,exd5,cxd5,fxe5,Ne4,Bxe7,Qxe7,Bxd5,Nd6,Nd2,Nf5,Qf3,Be6,Bxb7,Rab8,Be4,Nh4,Qg3,Rxb2,Nf3', 'Rxg2+,Qxg2,Nxg2', 'https://lichess.org/training/vKrG2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VkruM', 'Classical', 'abazoo', 1726, 'YUSUFOREL64', 1846, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,Bd7,exd6,Bxd6,Nc3,Nf6,Bd3,O-O,O-O,Ne5,Nxe5,Bxe5,Nd5,Bc6,Bg5,Qd6,Nxf6+,gxf6,Qg4,fxg5,Qxg5+,Bg7,Rad1,Qe5,f4,Qxb2,Rf3,h6,Qg4,Kh8,Qf5,Qf6,Qg4,Qg6,Qh3,Bxe4,Rg3,Qb6+,Kh1,f5,Bxe4,fxe4,Rxg7,Kxg7,Rd7+,Kh8,Qc3+,Rf6,h3,Rf8,Rxc7,e3,g4,e2,Re7,Qf2,f5,Qf1+,Kh2,h5,g5,Qf4+,Kh1,Qxg5,Rxe2,Qxf5,Rg2,Rc8,Qg3,Qh7,Qe5,Qh6,Qg3,Rf1+,Kh2,h4,Qe5+,Rf6,c4,Rxc4,Qe8+,Rf8,Qe5+,Qf6', 'Qh5+,Qh6,Qxh6#', 'https://lichess.org/training/VkruM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vkSpB', 'Blitz', 'FM ianfindlay2314', 2276, 'llblitz', 1981, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,f6,d4,exd4,Nxd4,c5,Ne2,Qxd1,Rxd1,Bd6,Bf4,Be5,Bxe5,fxe5,Nd2,Nf6,Ng3,Bg4,f3,Be6,Nb3,b6,a4,Rd8,a5,c4,Rxd8+,Kxd8,Nd2,b5,c3,Ke7,Kf2,Rd8,Ke2,h5,h4,g6,Ngf1,Nd7,Ne3,Nc5,g3', 'Rxd2+,Kxd2,Nb3+,Ke2,Nxa1', 'https://lichess.org/training/vkSpB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vkTiv', 'Rapid', 'Sobirto', 2216, 'konrad149', 2117, 'e4,c5,Nf3,d6,Bc4,e6,c3,Nf6,d3,Be7,O-O,O-O,Bg5,b6,Nbd2,Bb7,Re1,Nbd7,Bb3,d5,exd5,Nxd5,Bxe7,Qxe7,c4,Nb4,Ne4,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Rfd8,Qe3,Bxe4,Qxe4,Nc5,Qc2,a5,a3,Rd6,Ba2,Rad8,Rad1,Nd3,Bb1,Qh4,Rf1,g6,Qb3,Nf4,Rxd6,Rxd6,Qe3,Qg4,Be4,Rd1,Bf3', 'Nh3+,Kh1,Rxf1#', 'https://lichess.org/training/vkTiv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VkTRj', 'Blitz', 'zaeghe', 1973, 'sabirkhalil7380', 1976, 'd4,Nf6,Nf3,g6,Bf4,Bg7,Qd2,d6,Bh6,O-O,Bxg7,Kxg7,e3,Nbd7,h4,h5,Ng5,c5,c3,e5,Be2,exd4,cxd4,cxd4,Qxd4,Ne5,Nc3,Bg4,f3,Be6,O-O-O,Rc8,Kb1,Rc6,f4,Neg4,Nxe6+,fxe6,Bxg4,hxg4,Ne4,d5,Ng5,Kh6,Rc1,Rxc1+,Rxc1,Qd7,Qxa7,Qb5,Nxe6,Qd3+,Ka1,Rc8,Rb1,Ne4,Qxb7', 'Qxb1+,Kxb1,Nd2+,Ka1,Rc1#', 'https://lichess.org/training/VkTRj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vKTV6', 'Classical', 'kdsingh', 1627, 'nozi123', 1707, 'd4,c6,c4,e6,c5,d6,cxd6,Bxd6,e3,Nf6,a3,O-O,Nc3,Nbd7,e4,e5,dxe5,Nxe5,Bg5,Qe7,Nf3,Bg4,Be2,h6,Bxf6,Qxf6,Nxe5,Bxe2,Qxe2,Bxe5,O-O,Qd6,g3,Qg6,Kh1,h5,f4,Bd6,e5,Rfe8,f5,Qh7,e6,fxe6,fxe6,h4,g4,Qg6,Rad1,Rxe6,Qc4,Rd8,Rfe1,Kf7,Rf1+,Ke7,Rde1,Be5,Qc5+,Rdd6', 'Rxe5,Rxe5,Qxe5+', 'https://lichess.org/training/vKTV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vKtZE', 'Rapid', 'chertyvgolove', 1779, 'Skyallfire', 1670, 'e4,e5,f4,f6,Nf3,Bc5,Bc4,c6,d4,exd4,Nxd4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Ne7,Re1,O-O,Kh1,Re8,c3,Nbc6,b4,Bxd4,cxd4,Nxb4,a3,Nbc6,Nc3,Nf5,Rxe8+,Rxe8,Ne2,Qe7,Ra2,Ncxd4,Nxd4', 'Qe1+,Qxe1,Rxe1#', 'https://lichess.org/training/vKtZE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VkueG', 'Blitz', 'AnonymousVzla', 1752, 'Sudelede', 1984, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Bd6,Bd3,O-O,O-O,c6,Bg5,Bg4,h3,Bh5,Be2,Nbd7,Qd3,Qc7,Rfe1,b5,Qf5,Bg6,Bd3,Bxf5,Bxf5,b4,Ne2,Ne4,Be3,g6,Bxd7,Qxd7,Rac1,Rfe8,c3,bxc3,Nxc3,Rab8,b3,Nxc3,Rxc3,Bb4,Ne5,Qf5,Rec1,Bxc3,Rxc3,Qb1+,Kh2,Qxa2,Rxc6,Rxb3,Rc7,f6,Ng4,Rf8,Bh6,a5,Rg7+,Kh8,Re7,Rbb8', 'Bg7+,Kg8,Nh6#', 'https://lichess.org/training/VkueG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vKuW5', 'Blitz', 'IM lovlas', 2368, 'Plaenterwald', 2057, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,Nf3,Bg4,d4,Nc6,Be3,O-O-O,h3,Bxf3,Qxf3,Nxd4,Bxd4,Rxd4,Bxf7,e5,O-O,Rf4,Qe2,Bc5,Rad1,Rf8,Be6+,Kb8,Rd2,Bb4,Qd3,a6,Re1,Bxc3,bxc3,e4,Qd4,Qg5,g3,Rf3,h4', 'Rxg3+,fxg3,Qxg3+,Rg2,Qxe1+', 'https://lichess.org/training/vKuW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vkVlW', 'Rapid', '1taurus', 1762, 'Lado3', 1640, 'e4,e6,e5,Bc5,d4,Bb6,b4,c5,bxc5,Bc7,f4,Nc6,c3,h6,h4,Nge7,g4,Nd5,Ne2,O-O,Nd2,b6,Ne4,Ba6,cxb6,Bxe2,Bxe2,Bxb6,Bd2,f5,gxf5,Rxf5,Nd6,Rh5,Qc2,Rxh4,O-O-O,Rxh1,Rxh1,Bc7,Qg6,Bxd6,exd6,Qf6,Qg3,Rb8,f5,Qxf5,Bd3,Nxd4,Bxf5', 'Ne2+,Kd1,Nxg3,Bxe6+,dxe6', 'https://lichess.org/training/vkVlW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vkvt8', 'Rapid', 'ubiratanfurtado', 1740, 'Seroket3', 1737, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,a3,c5,Be3,Nc6,Nf3,cxd4,Bxd4,Nxd4,Qxd4,a6,Bd3,Bxd3,cxd3,Ne7,Qg4,Rc8,O-O,Ng6,d4,Qb6,Rab1,Be7,Ne2,O-O,Nf4,Nxf4,Qxf4,Rc6,h4,Rfc8,h5,h6,g3,Rc2,b4,Re2,Rfe1,Rcc2,Rxe2,Rxe2,Re1,Bg5,Qg4,Ra2,Nxg5,hxg5,Qxg5,Qxd4,Rf1,Rxa3', 'h6,Rxg3+,Qxg3', 'https://lichess.org/training/vkvt8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VKVTv', 'Rapid', 'ajedrezboom', 1678, 'syarifalwi', 1672, 'd4,d5,c4,dxc4,e4,b5,a4,c6,axb5,cxb5,Nf3,a6,Nc3,e6,Bf4,Nf6,Be2,Bb4,O-O,Bxc3,bxc3,O-O,e5,Nd5,Bg3,Nxc3,Qc2,Nxe2+,Qxe2,Nc6,Bh4,Qd7,Qe4,Bb7,Ng5,g6,Nf3,Ne7,Qg4,Nf5,Bf6,Bxf3,Qxf3,Nxd4,Qh3,Nf5,g4,Ng7,Qh6,Ne8,Rad1,Qb7,Rd2,Qf3,g5,Qg4+,Kh1,Qh5,Qxh5,gxh5,Be7,Ng7,Bxf8,Rxf8,Rd6,Ra8,Ra1,a5,Rb6,Nf5,Rxb5,Nd4,Rbxa5,Rc8,Rc1', 'Nb3,Ra8,Rxa8', 'https://lichess.org/training/VKVTv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VkW0g', 'Rapid', 'Sam0001', 2106, 'girida1', 1940, 'd4,e6,Bf4,d6,e3,Be7,Nf3,Nd7,h3,b6,Bd3,Bb7,Nbd2,Ngf6,c3,O-O,O-O,Rc8,Qe2,c5,e4,Qc7,e5,Ne8,Rfe1,cxd4,cxd4,g6,Bh6,Ng7,Ne4,dxe5,dxe5,Nxe5,Nxe5,Qxe5,Rad1,Bb4,Bd2,Bxd2,Qxd2,Rfd8,Qh6,Nf5,Qg5,Rxd3,Nf6+,Qxf6', 'Qxf6,Rxd1,Rxd1', 'https://lichess.org/training/VkW0g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vkWcV', 'Rapid', 'tamil-fr-95', 1977, 'Melaneos', 1976, 'e4,e5,d3,Bc5,Nc3,h6,h3,a6,Qf3,d6,Be2,Nc6,Qg3,Qf6,Nd5,Qxf2+,Qxf2,Bxf2+,Kxf2,Kd7,Bg4+,Kd8,Bxc8,Rxc8,Ne2,Kd7,Bd2,Nge7,Nec3,f5,Nxe7,Nxe7,exf5,Nxf5,Rhf1,Nd4,Rac1,Rhf8+,Kg1,Rxf1+,Kxf1,Rf8+,Kg1,Rf7,Be3,c5,Bxd4,cxd4,Ne4,Ke6,Rf1,Rc7,Rc1,Rf7,c3,dxc3,bxc3,b5,c4,Rc7,Rc3,b4,Rb3,a5,a3,Rb7,axb4,Rxb4,Ra3,d5,cxd5+,Kxd5,Rxa5+,Kd4,Ra7,Kxd3,Nf2+,Ke2,Ra2+,Ke3,Ng4+,Kf4,Rf2+,Kg5,Nxe5,h5,Kh2,Rb5,Nf7+,Kg6,Nd6,Rb4,Re2,Rd4,Ne8,Kf7,Nc7,Rd7,Rf2+,Ke7,Nb5,g6,Kg3,Rd5,Re2+,Kf6,Nc3,Rd3+,Kh4,Rxc3,g4', 'g5+,Kxh5,Rxh3#', 'https://lichess.org/training/vkWcV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vkwih', 'Rapid', 'karslan48', 1816, 'ipeksanli20', 1704, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,d3,h6,Be3,Bb6,O-O,O-O,Rb1,d6,b4,Bg4,h3,Be6,Bb3,Bxb3,Rxb3,Nd4,Rb1,Re8,a4,a6,a5,Ba7,Nxd4', 'exd4,Bxd4,Bxd4', 'https://lichess.org/training/vkwih');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vkwva', 'Rapid', 'Multiplepawns', 1913, 'COSI-COSANO', 2048, 'e4,c5,Nc3,Nc6,Nf3,e6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Qd1,Bb4,f3,Qa5,Bd2,O-O,Bd3,Qc7,O-O,Bxc3,Bxc3,a5,Bxf6,gxf6,Qe1,Kh8,Qh4,Qe5,f4,Qxb2,e5,f5,Rae1,Qd4+,Kh1,h6,Qxh6+,Kg8,Rf3,f6,Rg3+,Kf7,Qxf6+,Ke8,Qg7,Qb4,Rf1,Qe7,Qh6,b6,Rg7,Qc5,Qh5+,Kd8,Qg5+,Kc7,Qg6,Qc6,Rb1,Bb7,Bb5,Qxc2,Rxd7+,Kb8,Rbd1,Ka7,Qxe6', 'Qxg2#', 'https://lichess.org/training/Vkwva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vKyE2', 'Rapid', 'nieman', 1701, 'Mentalist5', 1648, 'Nf3,d5,d4,e6,Bf4,Nf6,Nbd2,Nc6,e3,Bd7,Bd3,Be7,c3,O-O,Qc2,Re8,O-O-O,a6,h4,b5,g4,Nxg4,Bxh7+,Kh8,Ng5,Rf8,h5,Nxf2,h6,g6,Bxg6,Nxd1', 'Nxf7+,Rxf7,Bxf7', 'https://lichess.org/training/vKyE2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vL2v2', 'Rapid', 'GoldenTich', 1830, 'hakanclkrs', 1668, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,h6,d4,exd4,cxd4,Bb6,e5,Nh7,Be3,O-O,Bd3,f5,a3,d6,Re1,dxe5,dxe5,Bxe3,Rxe3,Be6,Nc3,Nd4,Nxd4,Qxd4,Qc2,Ng5,Rd1,Qb6,Na4,Qa5,b4,Qd5,Bxf5', 'Bxf5,Rxd5,Bxc2', 'https://lichess.org/training/vL2v2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vl3Ji', 'Rapid', 'FrankieG', 1637, 'RPotenza', 1653, 'd4,d5,Nf3,Nf6,Bg5,Nc6,Bxf6,exf6,c3,Bd6,e3,Bg4,Nbd2,O-O,h3,Bh5,Be2,f5,Qc2,f4,Qf5,Bxf3,Bxf3,fxe3,fxe3,Ne7,Qd3,Bg3+,Kd1,Ng6,Kc2,a6,Nf1,Bd6,Bxd5,c6,Be4,c5,Bxb7,Rb8,Bxa6,Qb6,Bb5,Rfc8,a4,Ne7,Nd2,cxd4,exd4,Nd5,Nc4,Qc7,g3,Qe7,Rae1,Qf6,Rhf1,Qg5,Nxd6', 'Nb4+,Kb1,Nxd3', 'https://lichess.org/training/vl3Ji');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vL3Nl', 'Rapid', 'Liliya07', 2188, 'REZA_MOJAVER1353', 2207, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,f3,Be7,Qd2,Nc6,g4,Qc7,h4,b5,a3,Ne5,Qf2,Bb7,h5,Nc4,Bxc4,Qxc4,g5,Nd7,O-O-O,b4,axb4,Qxb4,g6,Rb8,gxf7+,Kxf7,f4,Nc5,f5,e5,f6,Bxe4,fxe7+,Ke8,Rhf1,Qxb2+,Kd2,Nb3+,Ke1,Qxc3+,Bd2,Qc4,Qf8+,Kd7,e8=Q+,Rxe8,Rf7+,Qxf7', 'Qxf7+,Re7,Qxb3', 'https://lichess.org/training/vL3Nl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vlCI2', 'Rapid', 'SKI1946', 2029, 'alsem', 2154, 'e4,c5,f4,e6,Nf3,d5,e5,Ne7,c3,Nbc6,Be2,d4,d3,b6,Nbd2,Bb7,Ne4,Nd5,O-O,Qc7,c4,Ndb4,a3,Na6,Bd2,O-O-O,Qa4,Kb8,b4,cxb4,axb4,Ncxb4,Bxb4,Bxb4,Nfd2,Ba5,Nd6,Bxd2,Nxb7,Qxb7,Bf3,Nc5,Qc2,Be3+,Kh1,Qc7,Rfb1,Bxf4,Rxb6+,Qxb6,Rb1,Kc7,Rxb6,axb6,Qa2,Rb8,Qa7+,Nb7,Qa4,Bxe5,Qc6+,Kd8,Qxb6+,Bc7,Qxd4+,Nd6,g3,Ke7,Qc5,Bb6,Qg5+,f6,Qxg7+,Nf7,Bh5,Rbf8', 'Bxf7,Rxf7,Qxh8', 'https://lichess.org/training/vlCI2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VlCwo', 'Rapid', 'prasanta1973', 1723, 'GoChess7', 1783, 'e4,e5,Bc4,Bc5,d3,h6,Be3,Bxe3,fxe3,Nf6,Nf3,d6,O-O,Nc6,Nc3,Na5,Bb5+,c6,Ba4,b5,Bb3,Nxb3,axb3,a5,d4,exd4,exd4,O-O,Qd3,Nh7,e5,dxe5,Nxe5,Qb6,Kh1,Be6,d5,cxd5,Nxd5,Qd6', 'Nf6+,gxf6,Qxd6', 'https://lichess.org/training/VlCwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vlcxr', 'Blitz', 'jtcdfg', 1858, 'CM Brookway', 2391, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Nh6,Bxh6,gxh6,Be2,cxd4,cxd4,Qxb2,Nbd2,Nxd4,Nxd4,Qxd4,Nf3,Qxd1+,Rxd1,Bxa3,Bb5+,Ke7,Ra1,Bc5,O-O,Bd7,Rfc1,Rhc8,Bf1,Bb6,Rcb1,Rc2', 'Rxb6,axb6,Rxa8', 'https://lichess.org/training/Vlcxr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vle5m', 'Classical', 'Vena', 1914, 'Rakila', 1929, 'c4,Nf6,g3,g6,Bg2,Bg7,e4,d6,d4,O-O,Ne2,e6,O-O,d5,e5,Nfd7,cxd5,exd5,Nbc3,c5,f4,cxd4,Nxd4,Nc6,Be3,f6,Bxd5+,Kh8,Ne6,Qe7,Nxf8,Qxf8,exf6,Nxf6,Bg2,Ng4,Bf2,Nxf2,Rxf2,Bd4,Qd2,Bf5,Kh1,Bxf2,Qxf2,Qf6,Re1,Rd8,h3,h5,Ne4,Qd4,Qc2,Re8,Qc3,Qxc3,bxc3,Na5,Kg1,Nc4,Kf2,Nb2,Nd6', 'Nd3+,Kg1,Rxe1+', 'https://lichess.org/training/vle5m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VLFRs', 'Classical', 'Dadokl', 1734, 'meikel19', 1741, 'd4,d5,Nf3,Nf6,c4,dxc4,Nc3,e6,e3,Bb4,Bxc4,Nc6,O-O,O-O,a3,Be7,b4,a6,Bb2,b5,Bd3,Nd5,Nxd5,exd5,e4,dxe4,Bxe4,Bb7,Rc1,Qd6,Re1,Bf6,Rc2,Rab8,Qc1,Nxd4,Nxd4,Bxd4,Bxb7,Rxb7,Rd2,Bxb2,Qxb2,Qh6,Red1,Rbb8,Qc3,c6,Rd7,Qg5,Qxc6,Rfd8,Qc7,Rdc8,Qd6,h6,f4,Qf6,Qd5,Qxf4,Rf1,Qe3+,Kh1,Rc1', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/VLFRs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VLJeM', 'Blitz', 'Alirajabi_61', 1958, 'gchemsworth', 1930, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Bd3,Nc6,Bg5,e6,Nc3,Be7,O-O,a6,Ne5,O-O,f4,h6,Bh4,Kh8,Qf3,Nxd4,Qh3,Nf5,Bxf5,exf5,Rad1,Be6,Rd4,Bc5,Rd1,Qb6,Bxf6,Bxd4+,Kh1,Bxe5', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/VLJeM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vljuu', 'Rapid', 'svanterosenlind', 1734, 'kuronekko', 1677, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nc3,Nc6,Nf3,Bg4,e3,e6,Be2,Bb4,Bd2,O-O,a3,Bxc3,bxc3,Qd6,O-O,Nf6,Ne5,Bxe2,Qxe2,Ne4,Nc4,Qe7,Rfb1,b6,a4,a5,Na3,Rfd8,Nb5,Rd5,Qd3,Nd6,e4,Rh5,e5,Nxb5,axb5,Nd8,Qf3,Qh4,Qxa8,Qxh2+,Kf1,h6,Qxd8+,Kh7,Qxc7,Qh1+,Ke2,Qxg2,Qxf7,Qg4+,Kd3,Rh3+,Kc2,Qe4+,Kb2,Qd3,Rg1', 'Qxd2+,Kb1,Qd3+,Kc1,Qxc3+', 'https://lichess.org/training/Vljuu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vLkDV', 'Rapid', 'RolanReyno', 1762, 'shoma128', 1772, 'd4,d5,e3,c6,Bd3,Nd7,Nf3,e6,Nbd2,Qc7,O-O,Ngf6,Re1,Bd6,h3,g5,e4,g4,e5,gxf3,Nxf3,Ne4,exd6,Qxd6,g3,Rg8,Bf4', 'Qxf4,Bxe4,dxe4', 'https://lichess.org/training/vLkDV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vlKU4', 'Blitz', 'Viorelz11', 2155, 'FINALQUEEN', 2160, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,Bb3,O-O,f3,Nc6,Be3,Na5,Qd2,a6,h4,Nxb3,axb3,Be6,g4,h5,Nxe6,fxe6,gxh5,Nxh5,Rg1,Qe8,Qg2,Qf7,Ke2,Kh7,Ra5,Be5,Qh3,Nf4+,Bxf4,Qxf4,h5,g5,Rg4,Qc1,Kd3,Rac8,Rg2,Qf1+,Ke3,Bf4+,Kd4,Qc1,Qxe6,Qe3+,Kd5,Rc5+,Rxc5', 'Qxc5#', 'https://lichess.org/training/vlKU4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VlLUB', 'Rapid', 'e2-e4_1-0', 1952, 'PPetenev', 1863, 'e4,c5,Nc3,e6,f4,a6,Nf3,Nc6,a4,d6,Bc4,Nf6,O-O,Be7,d3,O-O,Qe1,Re8,Ng5,h6,Nf3,d5,Ba2,Nb4,Qf2,Nxa2,Rxa2,dxe4,Nxe4,Nxe4,dxe4,Qc7,Ne5,Bf6,Ng4,Bd4,Be3,e5,f5,Qc6,c3,Qd6,cxd4,cxd4,Bd2,Bd7,f6,Bxg4,fxg7,Qe6,Bxh6,Qxa2,h3,Rac8,hxg4,Rc6,Bg5,Kxg7,Qh4,Rh8', 'Bf6+,Rxf6,Qxf6+', 'https://lichess.org/training/VlLUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vLngj', 'Classical', 'Pat657', 1960, 'Prabalpratap', 1878, 'd4,e5,Nf3,f6,dxe5,fxe5,Nxe5,d6,Nf3,Nc6,Bf4,Qf6,Qc1,Bf5,g3,Nb4,Na3,O-O-O,c3,Nd5,Bg2,Re8,Nd4,Nxf4,Qxf4,g6,O-O,Ne7,e4,g5,Qf3,g4,Qf4', 'Bh6,Qxf5+,Nxf5', 'https://lichess.org/training/vLngj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vlo95', 'Rapid', 'hubbledeep', 1807, 'yakubovian', 1845, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,d3,O-O,c3,h6,Nbd2,a6,b4,d6,Bb2,Bg4,a4,Bh5,a5,d5,exd5,Nxd5,Qb3,Nf4,d4,exd4,Nxd4,Nxd4,cxd4,Bf6,g3,Ne2+,Bxe2,Bxe2,Rfe1,Bb5,Nf3,Bc6,Ne5,Qd5,Qxd5,Bxd5,Nd7,Rfe8,Nxf6+,gxf6,f4,f5,Kf2,Re6,Re5,Be4,Rd1,Rc6,Rd2,Rc4,b5,axb5,Rxb5,Re8,d5,c6,dxc6,bxc6,Re5,Ra8,Ke3,c5,h4,Rxa5,Re8+,Kh7,Rh8+,Kg6,Rd6+,Kh5,Rhxh6+,Kg4,Rd2,Kxg3,Rf6,Ra7,h5,Ra8,Rxf7,Rh8,Rg7+,Kh3,Rg5,Rc2,Rxc2,Bxc2,Ba3,c4,Kd4,Bd3,Bb4,Kh4,Bc3,Rxh5', 'Be1+,Kh3,Rxh5+', 'https://lichess.org/training/Vlo95');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vLPxz', 'Classical', 'lrak', 1642, 'br3p', 1641, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Nc6,d4,Bd7,O-O,a6,Bxc6,Bxc6,Bg5,Qb6,b3,cxd4,Nxd4,Ne7,Bxe7,Bxe7,Re1,O-O,Nxc6,bxc6,c3,c5,Nd2,f6,exf6,Rxf6,Nf3,Bd6,Qc2,h6,Rad1,Raf8,Qd3,Qc7,Re2,Kh8,Rde1,c4,bxc4,dxc4,Qe3,Rxf3,gxf3,Bxh2+,Kh1,Bf4,Qxe6,Qb7,Kg2,Bg5,Qe4,Qf7,Rh1,Qf6,Rc2,Qf7,Rb2,Re8,Qb7,Qg6,Qd7', 'Bc1+,Qg4,Qxg4+,fxg4,Bxb2', 'https://lichess.org/training/vLPxz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VlQjU', 'Rapid', 'maltegigant', 1643, 'ConnyZH', 1631, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bf4,d6,e3,Nbd7,Bd3,c5,d5,b6,a4,Bb7,O-O,h6,h3,a6,Qc2,Kh7,Nh4,Qe8,Kh2,Nh5,Rg1,Nxf4,exf4,e5,f5,gxf5,Nxf5,Kg8,Nxd6,Qb8,Nxb7', 'e4+,f4,exd3', 'https://lichess.org/training/VlQjU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VlQy9', 'Blitz', 'ATGPIE', 1548, 'karlo_123', 1751, 'e4,c5,Bc4,Nc6,Qf3,Ne5,Qc3,Nxc4,Qxc4,d6,Nf3,Bd7,Nc3,a6,a4,Nf6,d3,e6,O-O,Be7,Bg5,h6,Bxf6,Bxf6,Rab1,Bc6,d4,cxd4,Nxd4,Bxd4,Qxd4,e5,Qc4,Rc8,Qb3,O-O,Nd5,Kh8,Nb6,Rc7,Nd5,Bxd5,Qxd5,Qc8,c3,Qd7,a5,Rc5,Qa2,Qc7,Ra1,f5,f3,fxe4,fxe4,Rxf1+,Rxf1,Kh7,Rf7,Qxa5,Qb1,Qb6,Kh1,Rb5,Qf1,Qd8,Qf5+,Kg8,Qg6,Qg5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/VlQy9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vLrAN', 'Rapid', 'mflowers', 1788, 'kriska', 1792, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Ne7,O-O,c6,Re1,Qd6,d4,Kd7,dxe5,Qc5,Bxd5,cxd5,Be3,Qc6,Rad1,Kc7,Nxd5+,Nxd5,Rxd5,b6,Bf4,Be6,Rd6,Qxf3,gxf3,Bxd6,exd6+,Kd7,b3,Rhf8,Bg3,Rxf3,Kg2,Rc3,Re2,Rac8,Re4,Rxc2,Ra4,a5,b4,axb4,Ra7+,R8c7,dxc7,Kc6,Ra8,Kb5,h4,b3,axb3', 'Bd5+,Kh3,Bxa8', 'https://lichess.org/training/vLrAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vlrcc', 'Classical', 'FM Schemato', 2323, 'LeandroLSA', 1929, 'c4,e5,g3,d6,Nc3,Bd7,Bg2,Bc6,e4,Nf6,Nge2,Be7,O-O,Na6,d3,O-O,h3,Bd7,Be3,Qc8,Kh2,Nc5,b4,Ne6,Qd2,Nh5,Nd5,Qe8,g4,Nhf4,Nexf4,exf4,Nxf4,Bg5,Nd5,Be7,f4,c6,Nxe7+,Qxe7,d4,Nc7,Rae1,b6,Bf2,Be6,d5,Bd7,Bg3,c5,bxc5,bxc5,e5,Rae8,Re3,Na6,Rfe1,Nb4,e6,Ba4,f5,Qg5,exf7+,Kxf7,Rxe8,Qxd2,Rxf8+,Kxf8,Bxd6+,Kf7,Re7+,Kf6,Rxa7,Bd1,Be7+,Ke5,Bf8,Qf4+,Kh1,Qxc4,Bxg7+,Kd6,Bf8+,Ke5,Bg7+,Kf4,Re7,Kg5,Re6,Bf3,Bf6+,Kf4,Be5+,Ke3,Bc3+,Kf2', 'Be1#', 'https://lichess.org/training/vlrcc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VLrXg', 'Blitz', 'ajayramani', 1989, 'korooshgh', 2017, 'Nf3,c6,g3,d5,Bg2,Nf6,O-O,Nbd7,c4,e5,cxd5,cxd5,d3,Bd6,Nc3,O-O,Bd2,b6,Rc1,Bb7,h3,Nc5,Nh2,Qe7,f4,e4,d4,Ne6,e3,Rfc8,Ng4,Rc7,Ne5,Rac8,Kh2,Ne8,f5,Nf8,g4,Bxe5+,dxe5,Qxe5+,Kh1,Nd6,Be1,Nc4,Qe2,Nd7,Bg3,Qe7,Bxc7,Rxc7,Rfd1,Qc5,Nxe4,dxe4,Rxd7,Rxd7,Rxc4,Qd6,Rd4,Qe7,Qc4,Rxd4,Qxd4,h6,Bf1,Qc5,Qxc5,bxc5,Bc4,Kf8,a4,a5,Kh2,f6,b3,Ke7,Kg3,Kd6,Kf4,Bd5,Kg3,Ke5,Kh4,Bc6,Bf7,Bd5,Bxd5,Kxd5,Kh5,c4,bxc4+,Kxc4,Kg6,Kd3,Kxg7,Kxe3,Kxf6,Kf3,Kg6,e3,f6,e2,f7,e1=Q,f8=Q+,Kg3,Qxh6,Qe6+,Kh5,Qf7+,Qg6,Qd5+,Qf5,Qc4,h4,Qxa4,g5,Qe8+,g6', 'Qh8+,Kg5,Qxh4#', 'https://lichess.org/training/VLrXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vLStt', 'Blitz', 'hamidb1', 1981, 'Divos', 2152, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,b6,Bd3,g6,O-O,Bg7,Na3,a6,Nc2,Nge7,Bg5,O-O,Qd2,a5,Bh6,Ba6,Bxa6,Rxa6,Bxg7,Kxg7,g3,Ra7,Qf4,Ng8,Rae1,Rc7,h3,cxd4,Ncxd4,Nce7,Ng5,Qc8,Qxf7+,Rxf7,Ndxe6+,Kh6', 'Nxf7+,Kh5,Nf4#', 'https://lichess.org/training/vLStt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vlTA4', 'Blitz', 'peterdavidson', 1851, 'Cotoguer93', 1866, 'e4,e5,Nf3,Nf6,d3,Nc6,Be2,d5,exd5,Nxd5,O-O,Bd6,c4,Nf4,Bxf4,exf4,d4,O-O,Nc3,b6,a3,a5,Ne4,Be7,d5,Bf5,Nc3,Na7,Bd3,Bxd3,Qxd3,c6,Rad1,cxd5,cxd5,Nc8,Nb5,Nd6,Nxd6,Bxd6,Nd4,Qg5,Qf3,Rfe8,Rde1,Be5,Rd1,Qf6,Ne2,g5,h3,Bxb2,d6,Red8,Rd5,Be5,Rfd1,Ra7,d7,Qe7,Nd4,Raxd7,Rxd7,Rxd7,Nf5,Rxd1+,Qxd1,Qe8,Qd5,Bg7,Nxg7,Kxg7,Qd4+,f6,Qxb6,Qe1+,Kh2,f3,gxf3,Qe5+,Kg2,h5,Qb7+,Kg6,Qe4+,Qxe4,fxe4,h4,f3,Kf7,Kf2,Ke6,Ke3', 'Ke5,a4,f5,exf5,Kxf5', 'https://lichess.org/training/vlTA4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VLTIv', 'Blitz', 'Alkiviadis', 1712, 'dozitaicho', 1706, 'e4,c5,Nf3,d6,c3,a6,d4,cxd4,cxd4,b5,b4,Bb7,d5,Nd7,Nc3,e6,dxe6,fxe6,Bg5,Ngf6,Be2,Be7,O-O,O-O,a3,Rc8,Rc1,Nxe4,Bxe7,Qxe7,Nxe4,Bxe4,Rxc8,Rxc8,Qb3,Nb6,Qe3,Bxf3,Bxf3,Nc4,Qe2,e5,Bd5+,Kh8,Qg4,Rc7,Rc1,Nxa3', 'Qc8+,Rxc8,Rxc8+,Qd8,Rxd8#', 'https://lichess.org/training/VLTIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VlTJs', 'Rapid', 'SK_QlS', 2025, 'Sukrit_Kshanu', 2060, 'Nf3,Nf6,d4,g6,Bf4,Bg7,e3,d6,Nbd2,Nh5,Bg3,Nxg3,hxg3,Bg4,Be2,a5,c4,c5,Rc1,cxd4,exd4,Nc6,d5,Ne5', 'Nxe5,Bxe5,Bxg4', 'https://lichess.org/training/VlTJs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VLU4m', 'Rapid', 'gkjin1', 1720, 'sahat30', 1664, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,f5,Nc3,b5,Bb3,b4,Nd5,fxe4,d4,exf3,Qxf3,Nxd4,Nxc7+,Qxc7', 'Qf7+,Kd8,Qxf8#', 'https://lichess.org/training/VLU4m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vlvCu', 'Rapid', 'SUPERMELONE', 2130, 'Husamal', 2129, 'e4,c5,d4,cxd4,c3,d3,Nf3,d6,Be3,g6,Nbd2,Bg7,Bxd3,Nf6,O-O,O-O,Nb3,Ng4,Bf4,Nc6,h3,Nge5,Bxe5,Nxe5,Nbd4,Qb6,b3,Nxf3+,Qxf3,Bxd4,cxd4,Qxd4,Rfd1,Qe5,Rac1,Be6,Rc7,Bc8,Rdc1,e6,Qe2,Qa5,Qc2,e5,a4,Qb6,Bc4,Be6,Bxe6,fxe6,Qc4,Qxf2+,Kh1,Qf6,Rxb7,Rfb8,Qc7,Rxb7,Qxb7,Rf8,Qxa7,Qf4,Re1,Qg3,Qe3', 'Rf1+,Rxf1,Qxe3', 'https://lichess.org/training/vlvCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vlwvy', 'Rapid', 'bradalj', 1959, 'StGr', 1850, 'e4,e5,Nf3,Nc6,Bb5,a6,Bc4,Nf6,d3,d5,exd5,Nxd5,c3,Bg4,O-O,Nb6,Bb3,Qd7,Be3,f5,a4,f4,Bxb6,cxb6,Re1,O-O-O,Bc4,Na5,Nxe5,Nxc4,Qxg4,Nxe5,Qxf4,Nxd3,Qc4+,Qc6,Qg4+,Kb8,Rd1,Bc5,Qg3+,Bd6,Qh3,Rhf8,Rxd3,Rde8,Na3,Bc5,Rd2,Re6,Rad1,Ka7,b4,Qe4,Nc2', 'Bxf2+,Rxf2,Rxf2', 'https://lichess.org/training/Vlwvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VlWYT', 'Blitz', 'Kojek', 2388, 'Ismailrekikoss', 2388, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d3,d5,Nc3,c5,e4,d4,Ne2,Nc6,Nd2,e5,h3,b5,f4,Rb8,f5,Qd6,g4,h6,Ng3,a5,Nf3,c4,a3,Ba6,g5,hxg5,Nxg5,cxd3,cxd3,b4,fxg6,fxg6,Qb3+,Kh8,Nf7+,Rxf7,Qxf7,Bxd3,Rf2,Nh7,Qd5,Qc7,Rf7,Qc8,Bd2,Nd8,Rxg7,Kxg7,Qxe5+,Kg8,Qxd4,Qc4,Qe5,Nc6,Qd6,Rd8,Qxg6+,Kh8,Rc1,Qd4+,Kh2,Ne5,Qh6,Qf2,Rc7', 'Nf3+,Kh1,Qg1#', 'https://lichess.org/training/VlWYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VlX9T', 'Blitz', 'AlissonBC', 1566, 'danish_dynamite_420', 1639, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Nh4,Bg6,Bd3,Ne7,O-O,c5,Nxg6,hxg6,c3,Nf5,Bg5,Be7,Bxe7,Qxe7,Bxf5,gxf5,f4,Nc6,h3,O-O-O,Na3,a6,Nc2,g5,b4,cxb4,Nxb4,Na5,Qa4,Nc4,a3,Rdg8,Rf3,gxf4,Raf1,Ne3,R1f2,Qh4,Nc2,Nd1,Rf1,Rxg2+,Kxg2,Rg8+,Kh2,Ne3,Nxe3,fxe3,Rxe3,f4,Ref3,Qg5,R3f2', 'Qg3+,Kh1,Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/VlX9T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VlXOm', 'Rapid', 'pvlitoral', 1724, 'Pourya_006', 1668, 'd4,d5,Bf4,Nf6,Nf3,Nc6,e3,Bf5,c4,Nb4,Na3,dxc4,Bxc4,e6,Qb3,Nc6,Nb5,Bd6,Nxd6+,cxd6,O-O,d5,Bb5,Qb6,Ne5,O-O,Nxc6,bxc6,Bd3', 'Qxb3,axb3,Bxd3', 'https://lichess.org/training/VlXOm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vLyeM', 'Blitz', 'Utopsia', 1854, 'PyjamaBroek', 1842, 'e4,Nc6,d4,e5,Nf3,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bg5,Be7,Bc4,h6,Be3,O-O,O-O-O,Be6,Bxe6,fxe6,f3,c6,g4,d5,exd5,exd5,h4,Nd7,Rdg1,Bf6,Qd3,Re8,Kb1,Qe7,Bd2,Qf7,g5,Bxc3,Bxc3,Re7,gxh6,Ne5,Bxe5,Qh5,Bxg7,Kf7,a3,Rae8,Rg5,Re1+,Rxe1,Rxe1+,Ka2,Qxh4,Qf5+,Ke8,Qc8+,Kf7,Rf5+,Kg6,Qd7', 'Qc4+,b3,Qxc2+,Bb2,Qb1#', 'https://lichess.org/training/vLyeM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vm0YL', 'Rapid', 'renan30', 2082, 'Karnthewarrior', 2043, 'd4,Nf6,Nc3,d5,Bf4,c5,Nf3,Nc6,e3,a6,a3,e6,Be2,Be7,O-O,O-O,h3,h6,Nh2,cxd4,exd4,Qb6,Be3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/vm0YL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VM11a', 'Rapid', 'vduy', 1801, 'JhaBbY', 1887, 'c4,Nc6,Nc3,e5,g3,Nf6,Bg2,Bb4,e3,O-O,Nge2,d6,O-O,Bg4,f3,Be6,b3,Qd7,g4,Bxc3,Nxc3,e4,Nxe4,Nxe4,fxe4,Bxg4,Qc2,Ne5,Bb2,Rae8,d4,Ng6,Qf2,Bh3,e5,Bxg2,Qxg2,dxe5,dxe5,Nxe5,Rad1,Qg4,Rd2,Qxg2+,Rxg2,g6,Ba3,Nd3,Bxf8,Kxf8,Rf3', 'Ne1,Rh3,Nxg2', 'https://lichess.org/training/VM11a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VM29V', 'Blitz', 'Griha_bo', 1660, 'WinterWood', 1621, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e3,Nxc3,bxc3,Bg7,Bd3,O-O,e4,c5,Ne2,Nc6,d5,Ne5,f4,Nxd3+,Qxd3,Qa5,Bd2,Qa3,O-O,b6,e5,Bf5,Qg3,Qb2,Qe3,Rad8,c4,e6,d6,f6,Ng3,fxe5,Nxf5,exf4,Ne7+,Kh8,Rxf4,Qxa1+,Bc1,Bd4,Rxd4,cxd4', 'Qe5+,Rf6,Qxf6#', 'https://lichess.org/training/VM29V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vM3jw', 'Rapid', 'Mert2016', 1853, 'zlocca', 1704, 'e4,e5,Nf3,d6,Bc4,f5,exf5,Bxf5,d4,e4,Bg5,Be7,Bxe7,Qxe7,O-O,Nf6,Re1,d5,Bb3,c6,c4,O-O,Nc3,Qd6,cxd5,exf3', 'dxc6+,Kh8,cxb7', 'https://lichess.org/training/vM3jw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vm3wj', 'Classical', 'Giuseppe_Zin', 1804, 'CFgracz', 1813, 'e4,c5,c4,Nc6,d3,Nf6,Qc2,d6,h3,g6,a3,Bg7,b3,Nxe4,Bb2,Bxb2,Qxb2,Nf6,Nd2,Bf5,Ndf3,O-O,g4,Be6,Ng5,Bd7,Bg2,Qc7,Ne4,Nxe4,Bxe4,Nd4,Nf3,Bc6,Nxd4,Bxe4,dxe4,cxd4,Qxd4,e5,Qd3,Qc5,b4,Qb6,Ke2,f5,exf5,gxf5,gxf5,Qd8,Qd5+,Kg7,Rhg1+,Kh6,Rg4,Rxf5,Rag1,Qe7,Qd2+,Kh5,Kd1,Raf8,Rg7,R8f7,Rxf7,Qxf7,Qe2+,Kh6,Ke1,Qf6,Qe3+,Rf4,Qg3,Rxc4,Qe3+,Kh5', 'Qe2+,Kh6,Qxc4', 'https://lichess.org/training/Vm3wj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vm4Gd', 'Rapid', 'Long_term-Strategy', 1897, 'Nikolai1956Puunan', 1920, 'e4,c5,Nc3,e6,f4,Nc6,Nf3,d5,Bb5,d4,Bxc6+,bxc6,Ne2,Bd6,d3,Ne7,O-O,f6,Qe1,O-O,e5,fxe5,fxe5,Bb8,Qg3,Ng6,Nf4,Bxe5,Nxg6,Bxg3,Nxf8,Bxh2+,Nxh2,Qd6,Bg5,Ba6,Nxe6,Qxe6,Rae1,Qg6,Bd2,c4,Nf3,c5,Ne5,Qb6,b3,cxd3,cxd3,Bb7,Nd7,Qg6,Rf2,Qxd3,Nxc5,Qb5,Ne6,Rc8,Nxd4,Qd7,Nf5,Rc2', 'Ne7+,Qxe7,Rxe7', 'https://lichess.org/training/vm4Gd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vM4X0', 'Blitz', 'IM LittlePumpkin', 2323, 'SAING', 2224, 'd4,c5,d5,e5,e4,d6,Nc3,f5,Bb5+,Kf7,exf5,Bxf5,Nf3,h6,O-O,Nf6,a4,Be7,Re1,Rf8,Bd3,Qc8,Bxf5,Qxf5,Nd2,Nbd7,Nde4,Kg8,f3,a6,Be3,Nxe4,Nxe4,Nf6,Qd3,Nxe4,Qxe4,Qh5,Re2,Bg5,Bxg5,Qxg5,a5,Rf4,Qe3,Raf8,Kh1,Qh5,Rg1,R8f6,c3,Rg6,Rd2', 'Qxh2+,Kxh2,Rh4#', 'https://lichess.org/training/vM4X0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vM6Ny', 'Rapid', 'Ivorybags', 1841, 'brmchess', 1876, 'e4,e5,Ne2,Nf6,Ng3,Bc5,Bc4,O-O,O-O,Nc6,d3,h6,Be3,Bb6,Nc3,d6,Nd5,Nxd5,exd5,Ne7,Bxb6,axb6,Qh5,Ng6,Rae1,Nf4,Qf3,f5,d4,Qf6,dxe5,dxe5,d6+,Kh7,dxc7,g5,Qb3,e4,Ne2,Bd7,Nxf4,gxf4,Bd5,Rac8,Qc4,Bc6,Rd1,Rxc7,Bxc6,bxc6,Qd4,Qg6,Qd6,Re8,Qxg6+,Kxg6,Rd6+,Kg5,Rfd1,e3,Re1,e2,Rd2,Rce7,f3,Re3,Kf2,h5,Rdxe2,h4,Rxe3,fxe3+,Rxe3,Rd8,Ke2,c5,Re6,b5,Re5,Rc8,c3,Kf4,Re6,Rd8,Rc6,Rd5,Rh6,Kg5,Rb6,c4,Re6,Kf4,Rh6,Kg5,Re6,Kf4,b3,Rd3,bxc4,bxc4,a4,Rxc3,a5,Rc2+,Kf1,c3,a6,Rc1+,Ke2,Rc2+,Kd3,Rxg2,Kxc3,Ra2,Kb3,Ra1,Rf6,Ke5,Rh6,h3,Kb4,Kf4,Kb5,Kxf3,Rxh3+,Ke4,Rh4+,f4,Rh7,f3,a7,Ke3,Kb6,f2,Rf7,Ke2,Kb7,f1=Q', 'Rxf1,Rxf1,a8=Q', 'https://lichess.org/training/vM6Ny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vMakY', 'Blitz', 'CM Pankaj08', 2195, 'matsken', 2224, 'c4,c6,g3,Nf6,Bg2,g6,Nf3,Bg7,O-O,O-O,Nc3,d5,d4,dxc4,Ne5,Be6,e4,b5,Be3,Nfd7,Nf3,h6,h3,a6,Qe2,Nb6,Rfd1,Qc8,d5,cxd5,Bxb6,dxe4,Nxe4,Bxh3,Rac1,Nd7,Bd4,Nf6,Nxf6+,exf6,Qc2,Bxg2,Kxg2,Qb7,Qc3,Qc6,a3,Rfe8,Kg1,Rad8,Re1,h5,Rxe8+,Rxe8,Re1,Rd8,Re3,Kh7,Nd2,Qd5,Nf3,Rd7,Bxf6,Qd1+,Kg2,Bh6,Ng5+,Bxg5,Bxg5', 'Qd5+,Kg1,Qxg5', 'https://lichess.org/training/vMakY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vmbFP', 'Bullet', 'gans78', 1750, 'shah_off', 1638, 'e4,e5,d4,exd4,c3,d5,Qxd4,Nf6,e5,Ne4,f3,c5,Qd1', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/vmbFP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vMbhU', 'Rapid', 'elahmadi28', 1846, 'Alequis1991', 1975, 'e4,e5,Nc3,Bb4,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,Nd5,Nxd5,Bxd5,O-O,Bxb7,Nd7,Bxa8,Qxa8,c3,Bc5,d3,f5,exf5,Qxf3,gxf3,Rxf5,Rg1,Rxf3,Rg2,Rxh3,Rg1,Nf6,Bg5,Nh5,O-O-O,h6,Bd8,Bxf2,Rgf1,Be3+,Kb1,Bb6,Be7,Nf4,d4,Kf7,dxe5,dxe5,Bd8,Ke8,Rg1,Ne6,Rge1,Rh5,Rd5,Nxd8,Rexe5+,Rxe5,Rxe5+,Kf7,a4,a5,b4,axb4,cxb4,Ne6,a5,Bd4,Re4,Ke7,a6,Kd6', 'Rxd4+,Nxd4,a7', 'https://lichess.org/training/vMbhU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VMbqi', 'Classical', 'EonFlower', 1852, 'zangetsu1984', 1836, 'e4,e5,Nf3,d6,c3,Nf6,d4,exd4,cxd4,Be7,Bd3,O-O,O-O,Bg4,h3,Bh5,Nbd2,h6,b3,c5,d5,a6,Bb2,b5,Re1,Nbd7,Nf1,Rc8,Rc1,Re8,Re3,Qa5,Be2,Qxa2,Qd2,Bxf3,Bxf3,Nxe4,Bxe4,Bf6,Bxf6,Qxd2,Nxd2,Nxf6,g4,g5,Rce1,Kg7,Ra1,Ra8,Bd3,Rxe3,fxe3,Nxd5,Bxb5,Nxe3,Rxa6,Rd8,Ra7,Rb8,Be8,Rxe8,Rd7,Re6,Kf2,Nd5,Nc4,Rf6+,Kg3,Nc3,Nxd6,Ne2+,Kg2,Nf4+,Kh2,Kf8,Ne4,Rc6,Nd6,Rb6,Rxf7+,Kg8,Rf6,Kg7', 'Ne8+,Kg8,Rxb6', 'https://lichess.org/training/VMbqi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VMCc3', 'Blitz', 'DragonRU1', 2306, 'BayorMiller', 1963, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,Re1,Bg4,h3,Bh5,c3,Be7,d4,exd4,cxd4,O-O,Nc3,Bxf3,gxf3,Qc8,Kh2,b5,Bb3,Na5,e5,dxe5,dxe5,Nd7,Bd5,c6,Be4,Nxe5,f4,Nec4,b3,Nb6,Bxh7+,Kxh7,Rxe7,Qf5,Re5,Qg6,Rg5,Qf6,Bd2,Rad8,Ne4,Qd4,Qf3,Qxa1,Rh5+,Kg8,Ng5,Rxd2', 'Rh8+,Kxh8,Qh5+,Kg8,Qh7#', 'https://lichess.org/training/VMCc3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vMdj6', 'Rapid', 'Wolf_Gamer2', 1959, 'hunbee', 1751, 'e4,e6,d4,d6,Nf3,Be7,Nc3,Nf6,Bd3,h6,e5,dxe5,dxe5,Nd5,Nxd5,Qxd5,O-O,Nc6,Re1,Nd4,Be4,Nxf3+,Qxf3,Qxe5,Kf1,Qb5+,Bd3,Qb4,c3,Qh4,Bf4,Bd6,Bxd6,cxd6,g3,Qxh2,Bb5+,Ke7,Rad1,h5,Qd5,Qh3+,Kg1,Rd8', 'Qg5+,f6,Qxg7#', 'https://lichess.org/training/vMdj6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vMDrI', 'Rapid', 'stayorchange', 1929, 'Steli1018', 1957, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bg5,O-O,e3,h6,Bh4,b6,a3,Bb7,Be2,Nbd7,O-O,c5,Re1,Rc8,Bf1,cxd4,Nxd4,dxc4,Qa4,Nc5,Qxc4,Nce4,Qd3,Nxc3,bxc3,Nd5,Bxe7,Qxe7,Rec1,Rc5,c4,Ba6,Qb3,Nf6,Nb5,Rfc8,Rd1,Nd7,Nxa7,Bxc4,Bxc4,Rxc4,Nxc8,Rxc8,Rac1,Rxc1,Rxc1,Qd6,Rc8+,Kh7,Qc2+,g6,a4,Nc5,g3,Qd7,Rb8,Nxa4,Ra8,Nc5,Qb2', 'Qd1+,Kg2,Qd5+', 'https://lichess.org/training/vMDrI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vmeIk', 'Rapid', 'keepcalm2020', 1933, 'Brahem', 1859, 'e4,c5,d4,Nc6,c3,cxd4,Nf3,dxc3,Nxc3,e5,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,Bd7,Qa4,b6,O-O,Bd6,Nge4,Nxe4,Nxe4,Qe7,Bg5,f6,Nxd6+,Qxd6,Bd2,O-O-O,Ba6+,Kb8,Qe4,f5,Qe2,Qxd5,Bxa5,Qxa5,b4,Qd5,Rfd1,Qe6,Qf3,Bc6,Qc3,Rd5,Re1,Rhd8,Bc4,Qg6,Bxd5,Rxd5,Rxe5', 'Rd1+,Rxd1,Qxg2#', 'https://lichess.org/training/vmeIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VMfl9', 'Blitz', 'xavizoologo', 1698, 'Young-mi_04', 1998, 'd4,d5,e3,e6,Nf3,f5,Nc3,Nf6,Bd2,c6,Bd3,Bd6,Qe2,Nbd7,O-O-O,a6,h4,b5,Nb1,a5,h5,a4,h6,g6,c3,Ne4,Bxe4,dxe4,Ng1,Qb6,f3,Nf6,fxe4,Nxe4,Be1,Ba6,Qc2,Rd8,Nd2,Nxd2,Rxd2,c5,d5,Be5,dxe6,Rxd2,Qxd2,Qxe6,Nf3,Bf6,Bh4,Bxh4,Nxh4,Ke7,Rd1,Bc8,Kb1,Bb7,Nf3,Be4+,Ka1,Bxf3,gxf3,Rc8,Qf2,Rd8', 'Qh4+,Qf6,Qxf6+,Kxf6,Rxd8', 'https://lichess.org/training/VMfl9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VmGkI', 'Blitz', 'FM ricaurte55', 2122, 'Jhonhts20', 2259, 'e4,c5,d4,Nc6,d5,Nb8,f4,e5,fxe5,d6,Nf3,Bg4,Bb5+,Nd7,exd6,Bxd6,e5,Bxe5,Qe2,f6,h3,Bxf3,Qxf3', 'Qa5+,Nc3,Bxc3+,Qxc3,Qxb5', 'https://lichess.org/training/VmGkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VMhMJ', 'Rapid', 'nodibay', 2082, 'mahdii26', 1961, 'e4,e5,Bc4,Nc6,Nf3,h6,c3,Bc5,O-O,Nf6,d4,exd4,cxd4,Bb6,e5,Ng8,d5,Nce7,Nc3,d6,e6,fxe6,dxe6,Nf6,Nh4,d5,Bd3,Bxe6,Re1,Bf7,Ng6,Bxg6,Bxg6+,Kd7,Bf7,c6,Bf4,g5,Be6+,Ke8,Be5,Rf8,Bxf6,Rxf6,Qh5+,Kf8,Rad1,Bxf2+,Kh1,Bxe1,Rxe1,Qd6,Qh3,Qf4,Rg1,Re8,Ne2,Qe5,Bd7,Rd8,Bg4,Nf5,Qh5,Nd6,Ng3,Ne4,Nxe4,dxe4,h3,e3,Re1,Rd2,Bf3,Rxb2,Qg4,Qe6,Qd4,Rxa2,Rxe3,Qf7', 'Qd8+,Kg7,Re7,Ra1+,Kh2', 'https://lichess.org/training/VMhMJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VMIy9', 'Bullet', 'RavenFeeder', 1797, 'yassershokry19800', 1876, 'e4,e5,Nf3,d6,d4,Nc6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bc4,Be6,Bxe6,fxe6,O-O,Ke7,Nc3,Nf6,f3,g6,Be3,c6,Bc5+,Kf7,Bxf8,Rhxf8,Rfd1,Rfd8,Kf1,Ke7,Ke2,g5,Rxd8,Rxd8,Rd1,Rxd1,Kxd1,h6,Ke2,b5,Ke3,Kd6,Nd1,a5,Nf2,h5,Nd3,c5,Nf2,c4,Nh3,g4,fxg4,Nxg4+,Ke2,Nxh2,Nf2,Kc5,c3,b4,Ke3,Ng4+,Nxg4,hxg4,Kf2,bxc3,bxc3,Kb5,Kg3,Ka4,Kxg4,Ka3,Kf3,Kxa2,g4,Kb3,g5,Kxc3', 'g6,Kb2,g7,c3,g8=Q,c2,Qb8+', 'https://lichess.org/training/VMIy9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vMj7j', 'Rapid', 'agusbon3212', 1770, 'lennyadriana', 1721, 'd4,c5,d5,Nf6,c4,e6,Nc3,exd5,cxd5,d6,e4,Be7,Be2,O-O,Nf3,a6,a4,Re8,O-O,Bf8,Bg5,h6,Bh4,g5,Bg3,Nxe4,Nxe4,Rxe4,Qd3,Bf5,Nd2,Rd4,Qxf5,Rxd2,Bd3,Bg7,f4,Qf6,fxg5,Qd4+,Kh1,Rxd3,Qxf7+,Kh8,gxh6,Bxh6,Qe8+,Kh7,Rf7+,Bg7,Rxb7,Nd7', 'Qh5+,Kg8,Rxd7', 'https://lichess.org/training/vMj7j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vmjD9', 'Rapid', 'SMMM7', 1966, 'ruslan13', 1848, 'e4,c5,Nc3,Nc6,d3,Nf6,Be3,e6,d4,cxd4,Bxd4,Nxd4,Qxd4,Qc7,Bd3,Bc5,Qc4,a6,Nh3,h6,O-O-O,b5,Qb3,O-O,f4,Bb7,Rhe1,d5,exd5,Nxd5,f5,exf5', 'Nxd5,Bxd5,Qxd5', 'https://lichess.org/training/vmjD9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vmK6X', 'Rapid', 'world11', 1943, 'Bilguunee9', 1952, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,d5,cxd5,Nxd5,Qc2,b6,e4,Nf6,e5,Nd5,Bd3,Bb7,Nf3,Nd7,Bg5,f6,Bg6+', 'hxg6,Qxg6+,Kf8', 'https://lichess.org/training/vmK6X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vmLb0', 'Rapid', 'Stonecrasher', 1728, 'MrCaligula', 1726, 'e4,e5,f4,Nc6,Nf3,exf4,d4,d5,e5,Bg4,c3,f6,Bxf4,fxe5,dxe5,Bc5,Bb5,Ne7,c4,O-O,Bg3,Bb4+,Nc3,d4,a3,Bxf3,gxf3,dxc3,axb4,Nxb4,Qxd8,Raxd8,O-O,cxb2,Rab1,Nd3,f4,Nf5,c5,Nxg3,hxg3,Nxc5,Rxb2,c6,Be2,a5,Rc1,Rd5,Bc4,Kh8,Bxd5,Nd3,Rcc2,Nxb2,Rxb2,cxd5,Rxb7,Rd8,e6,Kg8,Rd7,Ra8,e7,Kf7', 'Rd8,Kxe7,Rxa8', 'https://lichess.org/training/vmLb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vMlGv', 'Rapid', 'Sergey7776', 1914, 'cristian101', 1915, 'c4,e5,Nc3,Nf6,Nf3,Nc6,a3,d5,cxd5,Nxd5,g3,Bc5,Bg2,Nf6,O-O,O-O,e3,Be6,b4,Bb6,Bb2,h6,Rc1,Qd7,Na4,Bh3,Nxe5', 'Nxe5,Bxe5,Bxg2,Kxg2,Qd5+,Qf3,Qxe5', 'https://lichess.org/training/vMlGv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VMmGY', 'Rapid', 'Dijken', 1809, 'lovelyangel', 1663, 'e4,e5,Nf3,Nc6,Bc4,a6,d4,d6,Ng5,Be6,Bxe6,fxe6,Nxe6,Qe7,d5,Nd8,Nxf8,Qxf8,O-O,Nf6,Nc3,Nf7,f4,O-O-O,f5,g6,Bg5,Nxg5,b4,Ngxe4,Nxe4,Nxe4,fxg6,Qg7,Qg4+,Kb8,Qxe4,hxg6,b5,axb5,a4,Qh7,h3,g5,Qxh7,Rxh7,axb5,Rg8,Ra3,g4', 'Rfa1,Kc8,Ra8+,Kd7,Rxg8', 'https://lichess.org/training/VMmGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VMmuq', 'Rapid', 'ankas1', 1667, 'aleksandrvitkovskyi', 1645, 'd4,Nf6,Bf4,d6,Nd2,g6,e3,Bg7,Qe2,O-O,h3,c5,c3,Nc6,Qf3,Qc7,dxc5,Ne5,Bxe5,dxe5,b4,b6,cxb6,Qxc3,Rd1,axb6,Qxa8,Bg4,Qxf8+,Bxf8,hxg4,e6,b5,Bb4,Nf3,e4,Nd4,Nd5,Nc6,f5,Nxb4,Nxb4,gxf5', 'Nc2+,Ke2,Qd3#', 'https://lichess.org/training/VMmuq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VMMzT', 'Blitz', 'sepehr456', 1855, 'terex20', 1837, 'c4,c6,e4,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,Nf6,Bg5,Be7,Bb5+,Nc6,Ne5,Bd7,Bxc6,Bxc6,Nxc6,bxc6,O-O,O-O,Rc1,Rb8,b3,Rb4,Be3,Nd5,Na4,Nxe3,fxe3,Bg5,Qf3,Qd5,Rxc6,Bxe3+,Kh1,Bxd4', 'Qxf7+,Rxf7,Rc8+,Qd8,Rxd8+,Rf8,Rfxf8#', 'https://lichess.org/training/VMMzT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VMNfK', 'Blitz', 'DrHeisenber', 2014, 'rhuebner', 2013, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,d5,exd5,Nxd5,Re1+,Be7,Bg5,Be6,Bxe7,Ncxe7,Nxd4,O-O,Nxe6,fxe6,Rxe6,c6,Nc3,Qb6,Rxe7,Rxf2,Nxd5,cxd5,Qxd5+,Kh8,Kh1,Raf8,h3,Qxb2,Rae1,Qxc2,Bb3,Qg6,Rxb7,Qg3,Rbe7', 'Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/VMNfK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vMo4G', 'Blitz', 'piratenball', 2059, 'NM robertoyepez', 2162, 'e4,d6,Nc3,g6,g3,Bg7,Bg2,c6,Nge2,Nf6,O-O,O-O,h3,b5,d3,Bb7,Be3,a6,Qd2,Nbd7,a4,Rc8,f4,Re8,Kh2,Nc5,axb5,cxb5,Nd1,e5,c3,d5,fxe5,Nh5,d4,Nb3,Qe1,Nxa1,exd5,Nc2,Qf2,Nxe3,Nxe3,b4', 'Qxf7+,Kh8,Qxb7', 'https://lichess.org/training/vMo4G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VMocb', 'Blitz', 'JKJENSEN', 2386, 'FM Hinofuji', 2590, 'd4,e6,Nf3,Nf6,c3,b6,Bg5,Bb7,Nbd2,c5,e4,h6,Bxf6,Qxf6,Bd3,Qd8,Qe2,Be7,O-O-O,d5,Bb5+,Kf8,Ne5,cxd4,Ndf3,dxe4,Nxd4,Qc7,Nxe6+,fxe6,Qh5,Bg5+,Kb1,Qxe5', 'Qe8#', 'https://lichess.org/training/VMocb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vmoIn', 'Rapid', 'Kylecaguiat17', 1809, 'chesshub_discords', 1782, 'd4,f6,c4,e5,dxe5,fxe5,e4,Nf6,Nc3,Bb4,Bd2,O-O,Nf3,Bxc3,Bxc3,Nxe4,Bxe5,d6,Bd4,Nc6,Be3,Bg4', 'Qd5+,Rf7,Qxe4', 'https://lichess.org/training/vmoIn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VmoRw', 'Rapid', 'ChrisConB1', 2155, 'Andareoltre', 2108, 'e4,e5,Nc3,Nf6,Bc4,Nc6,d3,Bc5,a3,O-O,Bg5,h6,Bh4,g5,Bg3,d6,h4,Kg7,hxg5,hxg5,Nf3,Bg4,Qd2,Nh5,Nxg5,Nd4,Bh4,f6,f3,Nf4,fxg4,fxg5,Bg3,Qd7,O-O-O,Qxg4,Bf2,Nfe2+,Nxe2,Nxe2+,Kb1,Rxf2,Be6,Qxg2,Qa5,Bb6,Qd5,Nf4,Qxb7,Rxc2,Qxa8', 'Rxb2+,Ka1,Ra2+,Bxa2,Bd4+,Kb1,Qb2#', 'https://lichess.org/training/VmoRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vmp5Y', 'Rapid', 'chessnickname', 1818, 'Unkingly', 1839, 'd4,d6,c4,Nf6,Nc3,g6,Bf4,Bg7,e3,O-O,Nf3,Bg4,Bd3,Nbd7,Qc2,Bxf3,gxf3,c5,d5,Nh5,Bg3,Nxg3,hxg3,Ne5,Be2,e6,f4,Nd7,Rd1,e5,Ne4,exf4,gxf4,Qa5+,Nc3,Nb6,Bd3,Na4,Qxa4', 'Bxc3+,bxc3,Qxa4', 'https://lichess.org/training/vmp5Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vMpna', 'Rapid', 'alidrh', 1942, 'Dkgwby', 2036, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Be3,Bg7,Bc4,Nf6,Nd2,Nc6,Nxc6,bxc6,O-O,O-O,c3,Ng4,Bd4,e5,Be3,Qh4,Nf3,Nxe3,Nxh4,Nxd1,Rfxd1,Rd8,Rd2,Bh6,Rd3,Be6,Bxe6,fxe6,Rad1,Bf8,c4,Rab8,b3,a5,c5,d5,Nf3,Bg7,Ng5,Re8,f3,h6,Nh3,Rb5,Rc1,Bf8,Rdc3,d4,Rc4,g5,g4,Rd8,Nf2,Kf7,Kf1,Kf6,Ke2,Rdb8,Nd3,R5b7,Rh1,Rh7,h4,gxh4,Rxh4,Bg7,Ra4,Rb5,f4,exf4,Rxd4', 'Kg5,Rh5+,Kxg4', 'https://lichess.org/training/vMpna');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vmpvD', 'Rapid', 'jaque_alrei', 1959, 'smabes', 1992, 'Nf3,Nf6,d4,g6,Bg5,Bg7,Bxf6,Bxf6,e3,O-O,Nc3,c6,Be2,d5,O-O,Re8,e4,dxe4,Nxe4,Bg7,Bd3,Bg4,h3,Bxf3,Qxf3,e6,c3,Nd7,Nd6,Rf8,Nxb7,Qc7,Nc5,Nf6,Ne4,Nd5,Bc4,Nb6,Bd3,Rad8,Ng5,Nd5,h4,Qb8,Rab1,h6,Nh3,a5,Kh1,a4,a3,Qd6,g3,Rb8,Be4,Rb6,Rfd1,Rfb8,Rd2,Rb3,Qd1,Nxc3,bxc3,Qxa3,Bc2,Rb2,Nf4,Qxc3,Nd3', 'Rxb1,Bxb1,Rxb1,Qxb1,Qxd2', 'https://lichess.org/training/vmpvD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VmSAu', 'Rapid', 'analimari', 1902, 'Mokkus', 1916, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,f3,Bxc3+,bxc3,O-O,Qd6,h6,Be3,Ne8,Qd2,d6,Rd1,f5,Bc4+,Kh8,exf5', 'Qh4+,Bf2,Qxc4', 'https://lichess.org/training/VmSAu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vmu86', 'Blitz', 'Dolata', 2196, 'CM Alejandropacheco29', 2430, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,Nf3,Nc6,Bc4,dxe5,dxe5,Nb6,Qxd8+,Nxd8,Bb5+,Bd7,Nc3,g6,Be3,Bg7,O-O,O-O,Bxb6,Bxb5,Nxb5,axb6,Rfd1,Ne6,Rd7,Ra5,Nc3,Bxe5,Nxe5,Rxe5,Rxb7,Nf4,Rxb6,Rd8,g3,Ne6,Kg2,Rd2,Rd1,Rc2,a4,Nc5,a5,Ne4,Nxe4,Rxe4,b4,Ree2,Rf1,Rb2,a6,Ra2,b5,Reb2,Rb7,Ra5,a7,Kg7,Re1,e6,Rxe6,Raa2,Re3,Rxf2+,Kh3,h5,g4,Rxh2+,Kg3,Raf2,a8=Q', 'h4#', 'https://lichess.org/training/vmu86');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vmVEL', 'Rapid', 'sahat30', 1643, 'DMrFrost', 1673, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bd3,c5,Nf3,c4,Be2,Bd7,O-O,Bd6,Re1,O-O,Bg5,a6,Bxf6,Qxf6,Nxd5,Qh6,Bxc4,Bg4,Qd2,Bxf3,Qxh6,gxh6,gxf3,b5,Bd3,Nc6,c3,b4,Nf6+,Kh8,Kh1,Ne7,c4,Ng6,b3,Bf4,d5,Bd2,Rac1,Kg7,Ne4,Bxc1,Rxc1,Nf4,Bf1,f5,Ng3,Rae8,d6,Kf6,c5,Ke5,Bc4,Rc8,Bxa6,Ra8,Bb7,Rxa2,d7,Rd2,c6,Kd6,h4,Rxf2,Rd1+,Kc7,d8=Q+,Rxd8,Rxd8,Kxd8,Nxf5,Rxf3', 'c7+,Kxc7,Bxf3', 'https://lichess.org/training/vmVEL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vMvLb', 'Blitz', 'srba', 1792, 'robber23', 1806, 'f4,c5,Nf3,d5,e3,Nc6,d4,cxd4,exd4,Bg4,c3,Nf6,Bd3,e6,Nbd2,Bd6,Nb3,O-O,O-O,a6,Qe1,b5,Ne5,Bxe5,fxe5,Ne4,Bxe4,dxe4,Qxe4,Bf5,Qxc6,Rc8,Qf3,b4,Qg3,bxc3,bxc3,Qb6,Nc5,Rxc5,dxc5,Qxc5+,Kh1,Rc8,Bb2,Qc4,Rf4,Qe2,Ba3,Rd8,Re1,Rd1,Rff1', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/vMvLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vMWDQ', 'Rapid', 'goemannbolsehle', 1976, 'gunesmuhittin', 1660, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Nf6,Nf3,Bf5,Bc4,e6,O-O,Nbd7,Nd5,Qd8,Nxf6+,Qxf6,c3,Bd6,Bg5,Qg6,Qd2,O-O,Nh4,Qh5,Nf3,f6,Bh4,g5,Bg3,Bxg3,fxg3,Kh8,Rae1,Nb6,Bxe6,Bxe6,Rxe6,Nc4,Qe2,Rfe8,Rxe8+,Rxe8,Qd1,Nxb2,Qc2,Nc4,Nd2,Ne3,Qd3,Nxf1,Nxf1,Qe2,Qf5,Re6,h3,Qxa2,h4,Qd5,Qf2,a5,hxg5,Qxg5,Nh2,a4,Nf3,Qf5,Qa2,b5,Nh4,Qe4,Nf3,Re8,Qf7,f5,Qf6+,Kg8,Ne5,Rf8,Qg5+,Kh8,Qe7,Ra8,Nf7+,Kg8', 'Nh6+,Kh8,Qf6#', 'https://lichess.org/training/vMWDQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VMwJu', 'Classical', 'Tom_Ripley', 1767, 'PRV2018', 1990, 'c4,c6,g3,d5,cxd5,Qxd5,Nf3,Nf6,Bg2,Qh5,d3,e5,Nbd2,Be6,O-O,Nbd7,b3,Bd6,Bb2,Bh3,a3,Bxg2,Kxg2,O-O,b4,a6,e4,Bc7,Nh4,Qxd1,Rfxd1,g6,Nhf3,Rfe8,Rac1,Re7,Ne1,Rae8,f3,Bb6,Nb3,Nh5,a4,Ng7,a5,Ba7,Nc5,Nf8,d4,exd4,Bxd4,Nge6,Nxe6,Bxd4,Nxd4,Rd7,Nb3,Rde7,Nc5,f5,exf5,Re2+,Kh3,gxf5,Nxb7,Ne6,Nd6,Rf8,Rxc6,h6,Nd3', 'Ng5+,Kh4,Rxh2#', 'https://lichess.org/training/VMwJu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VmxBr', 'Classical', 'RO0ohi', 1957, 'astral999', 2047, 'd4,e6,c4,d5,cxd5,exd5,Nf3,Nc6,e3,Bg4,Be2,Nf6,O-O,Be7,Ne5,Bxe2,Qxe2,Nxe5,dxe5,Nd7,Nc3,Nxe5,f4,Nc6,Qb5,O-O,Nxd5,Rb8,Rd1,a6,Qe2,Qc8,a3,Bc5,b4,Ba7,a4,Re8,b5,Na5,Ba3,Nc4,Ne7+,Rxe7,Bxe7,Bxe3+,Kh1,Qe6,Rf1,Re8,f5,Qxe7,Qxc4,axb5,axb5,Bb6,h3,h6,Qg4,f6,Qf3,Qd7,Rab1,Re5,Rfd1,Qxf5,Qxb7,Rxb5,Rxb5,Qxb5,Rd8+,Kh7,Qe4+,f5,Qf3,c6,Rd1,c5,Qxf5+,Kh8,Qg6,Qe2,Ra1,Bd8,Qf7,Qe7,Qc4,Qe5,Rf1,Be7,Qf7,Bd6,Kg1,Qh2+,Kf2,Qe5,Qa2,Qd4+,Ke2,c4,Qd2,Qe4+,Kd1,Be7,Rf4,Qb1+,Ke2,Qb5,Kf3,Qb3+,Kg4,c3,Qd7,Qb1,Qxe7,Qg6+,Kf3,c2,Rf8+,Kh7,Rc8,Qd3+,Qe3', 'Qf5+,Ke2,Qxc8', 'https://lichess.org/training/VmxBr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vmYuh', 'Classical', 'Nordlead', 1699, 'ben_sherman', 1645, 'e4,e5,f4,Nf6,Bc4,d5,exd5,exf4,Nf3,Nxd5,O-O,Bc5+,d4,Bb6,Re1+,Be6,Bxd5,Qxd5,Nc3,Qd6,Ne4,Qd8,Bxf4,O-O,Kh1,Bg4,c3,Nc6,h3,Bxf3,gxf3,Qh4,Bh2,Qxh3,Rg1,Ne7,Qd3,Qh6,Rg2,Ng6,Kg1,Nf4,Bxf4,Qxf4,Rg4,Qh6,Kg2,f5,Rh1,fxe4', 'Qc4+,Kh8,Rxh6', 'https://lichess.org/training/vmYuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VN0cd', 'Rapid', 'Kingchess2910', 1936, 'ramessh', 1903, 'e4,e6,d4,d5,e5,Nc6,Nf3,Bd7,c3,Be7,Bf4,b6,Bb5,Na5,Bxd7+,Qxd7,Nbd2,Qb5,Nb3,Nc4,O-O,a5,Qc2,a4,Nbd2,f6,Nxc4,Qxc4,exf6,Nxf6,b3,Qb5,Bxc7,a3,c4,Qb4,Rfe1,O-O,Rxe6,Nd7,Rae1,Rxf3,g3,Raf8,Rxe7,Rxf2,Qxf2,Rxf2,Kxf2,Nf6,cxd5,Qxd4+,Kg2,Qxd5+,Kg1,Qd4+,Kg2,Qd2+,R7e2', 'Qd5+,Kg1,Qc5+', 'https://lichess.org/training/VN0cd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vn0ru', 'Blitz', 'Patric_87', 1522, 'mohammed_ragab_200', 1547, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Nge7,O-O,g6,Bxf7+,Kxf7,Ng5+,Ke8,Rxf4,Bh6,Nf7,Bxf4,Nxd8,Kxd8,d3,Be5,Nc3,d6,Bg5,h6,Bh4,g5,Bf2,h5,d4,Bf4,g3,Bg4,Qd3,Nb4,Qb5,Nxc2,Qxb7,Kd7,Rf1,Rab8,Qxa7,Ne3,gxf4,Nxf1,Kxf1,gxf4,Qa4+,c6,Bh4,Rxb2,Qa7+,Kc8,Bxe7,Rh7,Qa8+,Kd7,Qa7+,Ke6,d5+,cxd5,exd5+,Kf5,Qd7+,Kg6,Qe8+,Rf7,Qg8+,Rg7,Qe8+,Kh7,Bxd6', 'Bh3+,Ke1,Rg1#', 'https://lichess.org/training/Vn0ru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VN3TF', 'Classical', 'asdf5656', 1612, 'Homerovsky', 1610, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,e6,Nc3,Bd7,e5,dxe5,dxe5,Bb4,Bd2,Nge7,Be2,Qc7,a3,Ba5,b4,Bb6,Bf4,Ng6,Nb5,Qb8,Nd6+,Ke7,Bg5+,f6,exf6+,gxf6,Bh4,Qxd6', 'Bxf6+,Kxf6,Qxd6', 'https://lichess.org/training/VN3TF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vn3Uw', 'Classical', 'Harmony_in_life', 2066, 'Kevinaper', 2021, 'd4,d5,Bf4,Bf5,Nf3,Nf6,e3,h6,Bd3,Bxd3,cxd3,e6,Qc2,Be7,Qxc7,Qxc7,Bxc7,Nc6,a3', 'Rc8,Bg3,Nxd4', 'https://lichess.org/training/vn3Uw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vn4cr', 'Blitz', 'senfa', 1576, 'Gletbuub', 1591, 'e4,e6,d4,d5,Nc3,c5,dxc5,Bxc5,exd5,exd5,Qxd5,Qxd5,Nxd5,Bd6,Bf4,Bxf4,Nxf4,Nf6,Nd5,Nxd5,O-O-O,Ne7,Bb5+,Nbc6,Nf3,O-O,Rhe1,Be6,Ng5,Bf5,h3,Nc8,g4,Bg6,h4,h6,Nf3,Nb4,Bd3,Nxa2+,Kb1,Nb4,Bxg6,fxg6,Ne5,Kh7,Nd7,Rxf2,Re8,Rxc2', 'Nf6+,gxf6,Rd7+,Ne7,Rdxe7#', 'https://lichess.org/training/Vn4cr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VN4P8', 'Blitz', 'Makar026', 1991, 'WFM GreyCordero', 2001, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Bd2,Bb7,Nf3,Bxc3,Bxc3,Ne4,Qc2,f5,Be2,d6,O-O,Nd7,b4,a5,a3,a4,c5,bxc5,dxc5,dxc5,Bxg7,Rg8,Bh6,Qf6,bxc5,Qxh6', 'c6,Bc8,cxd7+', 'https://lichess.org/training/VN4P8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VN71s', 'Rapid', 'Bubblebee', 1629, 'v_giulia', 1610, 'e4,e5,Bc4,Nf6,d4,Nxe4,dxe5,Nxf2,Kxf2,Qh4+,g3,Qxc4,Nf3,Bc5+,Kg2,O-O,Re1,b6,Nbd2,Qg4,b3,Bb4', 'Re4,Qg6,Rxb4', 'https://lichess.org/training/VN71s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VN7tR', 'Rapid', 'ViratCarlsen', 1622, 'tultulbaba', 1616, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,d5,a3,Bxc3,Bxc3,c5,cxd5,exd5,Nf3,Ne4,Qc2,Nxc3,Qxc3,cxd4,Nxd4,O-O,e3,Re8,Bd3,Nd7,O-O,Ne5,Bb5,Bd7,Bxd7,Qxd7,Rac1,Rac8,Qd2,Nc4,Qe2,a5,a4,Qxa4', 'b3,Qb4,bxc4', 'https://lichess.org/training/VN7tR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vN9IQ', 'Rapid', 'MathTennisCoding', 2226, 'Danielle1001', 2241, 'c4,e5,Nc3,Nc6,e4,Nd4,Nf3,Nf6,Nxe5,Bb4,Nf3,Nxf3+,Qxf3,d6,h3,O-O,d3,c6,Be2,d5,cxd5,cxd5,O-O,d4,Nd1,Re8,a3,Ba5,Bg5,Qd6,Bxf6,Qxf6,Qxf6,gxf6,b4,Bc7,Nb2,f5,Bf3,fxe4,Bxe4,f5,Bd5+,Kg7,Rfe1,Re5,Bf3,Rb8,Rxe5,Bxe5,Nc4,Bc7,Re1,Kf6,Re8,b5,Nd2,Bd7,Rxb8,Bxb8,g4,Ke5,Bd1,fxg4,hxg4,Bc6,f3,Kf4,Kf2,Bc7,Bb3,Bd8,Be6,Bh4+,Ke2,h6,Bf5,Bd8,Be4,Bd7,Bd5,a5,Nb3,axb4,axb4,Ke5,Be4,Be7,Nc5,Be8,Kd2,h5,gxh5,Bxh5,Nd7+,Kf4,Nc5,Bxf3,Ne6+,Kg3,Bxf3,Kxf3,Nxd4+,Kf4,Kc3', 'Bf6,Kc2,Bxd4', 'https://lichess.org/training/vN9IQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VN9zf', 'Rapid', 'TooOld4This', 2086, 'GenMate', 2175, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,c6,Qc2,Nbd7,e3,Be7,g4,Nxg4,Rg1,h5,h3,f5,hxg4,hxg4,Ne5,Nxe5,dxe5,Rh2,cxd5,cxd5,Bd2,Qc7,Bg2,Qxe5,Nb5,Kf7,O-O-O,a6,Nc3,Bd7,Kb1,Rc8,Qb3,b5,Ne2', 'Rxg2,Rxg2,Qe4+,Ka1,Qxg2', 'https://lichess.org/training/VN9zf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VNbef', 'Blitz', 'CyberTal', 2408, 'NM FalzeHope', 2297, 'b3,d5,Bb2,e6,e3,f5,f4,Nf6,Nf3,Bd6,Be2,O-O,O-O,Nbd7,d3,c6,h3,Qe7,Ne5,Re8,Nd2,Nf8,Ndf3,Bc7,c4,Rd8,Qe1,Qe8,g4,Ng6,g5,Nd7,Nxd7,Bxd7,h4,Bb6,d4,Nh8,Ne5,Nf7,Bh5,g6,Nxg6,hxg6,Bxg6,Kg7,h5,Qe7,c5,Bc7,Bxf7,Qxf7,h6+,Kh7,Qh4,Rg8,Kf2,Be8,Rg1,Qd7,Bc3,Bg6,Qg3,Rgc8,Qf3,b6,Rac1,b5,a3,a5,Bd2,Bd8,Qe2,Qb7,Qe1,Be7,Bxa5,b4,Bxb4,Rcb8,Qf1,Qb5,Qxb5,Rxb5,Ra1,Bd8,Ke1', 'Rxb4,axb4,Rxa1+', 'https://lichess.org/training/VNbef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VnCx7', 'Blitz', 'Cosaaa', 1679, 'Dudusiek', 1637, 'd4,Nf6,Nf3,g6,e3,Bg7,c4,O-O,Nc3,d5,Qc2,dxc4,Bxc4,a6,h4,b5,Bb3,Nc6,h5,Nxh5,Rxh5,gxh5,Bd2,Bf5,e4,Bg6,d5,Ne5,Nxe5,Bxe5,Bh6,Bg7,Bxg7,Kxg7,O-O-O,Qc8,f4,e6,f5,exf5,exf5,Qxf5,Qxf5,Bxf5,Rh1,Bg6,Ne2,Rfe8,Nf4,Rac8,Nxg6,fxg6,Bd1,Red8,Bf3,Kh6,Kc2,g5,Rxh5+,Kg6,g4,h6,Kd3,Rf8,Be4+,Kg7,Kd4,Rf4,Ke5,Rxe4+,Kxe4,c6,d6,c5,Kd5,c4,Rh2,Kf6,Rxh6+,Kf7,Rh7+,Kf6,Rh5,c3,Rh2', 'c2,d7,c1=Q,dxc8=Q,Qxc8', 'https://lichess.org/training/VnCx7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VNDdu', 'Rapid', 'm9421604', 1681, 'alnimur', 1713, 'e4,e6,Nf3,d5,exd5,exd5,Qe2+,Be6,Nd4,Qd7,f4,Be7,f5,Bxf5,Nxf5,Qxf5,Nc3,Nc6,g4,Qe6,Qxe6,fxe6,Bb5,Bh4+,Kd1,Ne7,d4,O-O-O,Bxc6,Nxc6,Ne2,Bf6,Re1,Bxd4,Nxd4,Nxd4,c3,Nf3,Rxe6,Nxh2,Re7,Nxg4,Rxg7,Nf2+,Ke2,Ne4,Bf4,Rd7,Rg2,h5,Rag1,b6,Bg5,Nxg5,Rxg5,h4,Kd3,h3,Rh1,Rf7,Rxd5,Rg7,Re5,h2,Re2,Rg1,Rexh2', 'Rxh1,Rxh1,Rxh1', 'https://lichess.org/training/VNDdu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VNdeS', 'Rapid', 'lafloze', 1821, 'Pet55', 1824, 'd4,b6,Nf3,Bb7,e3,e6,Bd3,d5,Nbd2,a6,Qe2,Nc6,O-O,Nb4,c4,Nxd3,Qxd3,dxc4,Nxc4,Bxf3,gxf3,Qg5+,Kh1,Qf6,Ne5,Bd6,f4,Ne7,Rg1,O-O,Ng4,Qf5', 'Nh6+,Kh8,Nxf5', 'https://lichess.org/training/VNdeS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VNduP', 'Blitz', 'Santy921', 1816, 'TobiasFleischhacker', 1880, 'e4,c5,Nf3,Nc6,Bb5,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Bc4,e6,O-O,d5,exd5,cxd5,Bb3,Ba6,Re1,Ne7,Ba4+,Kf8,Bg5,Bxb2,Nd2,Bxa1,Qxa1,d4,Nf3,h6,Bf6,Rh7,Nxd4,Qa5,Bb3,Nd5,Re5,Qc3,Qd1,Nxf6,Rxe6,fxe6,Nxe6+,Ke7,h3,Qe5,Qd2,Bc8', 'Qd8+,Kf7,Qf8#', 'https://lichess.org/training/VNduP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vndVY', 'Rapid', 'pseudopaspris', 1641, 'Ur', 1657, 'e4,c5,Nc3,e6,d3,h6,f4,Qh4+,g3,Qd8,Nf3,Nc6,Bg2,a6,d4,cxd4,Nxd4,Nxd4,Qxd4,b5,a3,Bb7,Be3,Nf6,h3,Rc8,O-O,Bc5,Qd2,Bxe3+,Qxe3,Qc7,e5,Bxg2,Kxg2,Nh7,f5,Ng5,h4,Qc6+,Kh2,Nh7,f6,g5,Kh3,Qc4,Rfd1,gxh4,Qxh6,hxg3,Kg2,Rc5,Qg7,Rf8,Qxh7,Rxe5,Qd3,Qc6+,Kg1,Rh8,Ne4,Rxe4,Qxg3,Qc5+,Kf1,Rh1+,Kg2,Re2+', 'Kxh1,Qh5+,Kg1', 'https://lichess.org/training/vndVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vNFMc', 'Rapid', 'lucassillos', 1607, 'jcbaraujo', 1775, 'd4,e6,Nf3,Nf6,Bf4,d5,c3,Bd6,Bg3,Ne4,e3,c5,b3,Bxg3,hxg3,Qa5,Qc2,Bd7,Bd3,f5,Ne5,cxd4,exd4,Nc6,Nxd7,Kxd7,Bxe4,dxe4,Nd2,e5,b4,Qb5,dxe5,Nxe5,c4,Nd3+', 'Qxd3+,exd3,cxb5', 'https://lichess.org/training/vNFMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VNg1O', 'Blitz', 'StanFurd', 2116, 'rubak8', 2121, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,e6,O-O,Nf6,Qe2,Be7,Rd1,Bd7,Bf4,e5,Be3,O-O,Nb5,Na5,Nxd6,Qc7,Rac1,Bxd6,Bxf7+,Rxf7,Rxc7,Bxc7,Ng5,Rff8,b4,h6,bxa5,hxg5,Qc4+,Kh7,Qxc7,Bc6,Qxe5,Nxe4,f3,Rae8,Qb2,Nf6,Bf2,a6,Bg3,g4,fxg4,Nxg4,Qb4,Ne3,Qb3,Nxg2,Rd4,Rf6,Qd3+,Kg8,Rd8,Rxd8,Qxd8+,Kh7,Qd3+,Kg8,Qd8+,Kh7,Qd3+,Kg8,a4,Rf3,Qc4+,Rf7,h4,Ne3,Qc5', 'Rf1+,Kh2,Rh1#', 'https://lichess.org/training/VNg1O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VngVi', 'Rapid', 'Drinking_Beer', 1701, 'IvanVK2009', 1718, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,Ng4,O-O,Bc5,h3,Ngxe5,Nxe5,Nxe5,Re1,d6,f4,d3+,Kh1,dxc2,Qxc2,O-O,fxe5,dxe5,Rxe5,b6,Bd5,Rb8,Nc3,Re8,Bg5,Qd7,Bc6,Qxc6,Rxe8+,Qxe8,Nd5,Qc6', 'Ne7+,Bxe7,Qxc6', 'https://lichess.org/training/VngVi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vNHwb', 'Classical', 'abdelgawad18', 1933, 'Mink0', 1902, 'd4,d5,e3,Nf6,Bd3,Nc6,Nf3,Bg4,Nbd2,e5,dxe5,Nxe5,h3,Bh5,g4,Bg6,Nxe5,Bd6,Nxg6,hxg6,e4,Qe7,Qe2,O-O-O,exd5,Qxe2+,Bxe2,Rde8,Nc4,Bc5,Bg5,Nxg4,Rf1,Nh2,Rh1', 'Nf3+,Kf1,Nxg5', 'https://lichess.org/training/vNHwb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vNiNu', 'Rapid', 'TSU80', 1974, 'Nevod', 1996, 'e4,g6,d4,Bg7,f4,b6,Nf3,Bb7,Nc3,e6,Bd3,f5,e5,Ne7,Be3,O-O,h3,Nd5,Nxd5,Bxd5,g4,c5,c4,Bb7,Rg1,d5,cxd5,Bxd5,gxf5,exf5,dxc5,Bxf3', 'Bc4+,Kh8,Qxf3', 'https://lichess.org/training/vNiNu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VnlX5', 'Blitz', 'les_barbus', 1545, 'kiiroiki', 1554, 'e4,e5,Bc4,Nc6,Nf3,Bc5,d3,f5,exf5,d5,Bb3,Bxf5,O-O,h6,Re1,Qd6,d4,Bb6,dxe5,Qc5,Be3,d4,Bxd4', 'Nxd4,Nxd4,Qxd4,Qh5+,g6', 'https://lichess.org/training/VnlX5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vnmpu', 'Rapid', 'yasin_ve', 1940, 'Tolllk', 1975, 'd4,d5,Bf4,Nf6,e3,g6,Bd3,Bg7,c3,O-O,Nf3,Nfd7,Nbd2,c5,O-O,c4,Bc2,Nc6,b3,b5,a4,bxa4,bxc4,dxc4,Nxc4,Ba6,Bd3,Nb6,Nxb6,axb6,Bxa6,Rxa6,Rxa4,Rxa4,Qxa4,Qd5,Rb1,Na5,Rxb6,Nc4,Rb5,Qc6,Qb4,Nd6,Rb6,Qe4,h3,Nf5,Rb7,e6,Ng5,Qd3,Be5,Bxe5,dxe5,Nxe3,Nf3', 'Qf1+,Kh2,Qxg2#', 'https://lichess.org/training/Vnmpu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VNmTr', 'Blitz', 'MAKSIM2SHAPOVALOV-3', 1712, 'TechNik8500', 1690, 'd4,Nf6,Nf3,d5,Nc3,Nc6,e3,Bf5,Bd3,Bg6,Bxg6,hxg6,O-O,a6,Re1,e6,e4,Qe7,e5,Nh5,Ne2,f6,exf6,gxf6,Ng3,O-O-O,Nxh5,Rxh5,b3,Bg7,c4,dxc4,bxc4,f5,Be3,g5,Rb1,g4,d5,gxf3,dxc6,Rxd1,cxb7+,Kb8', 'Ba7+,Kxa7,b8=Q#', 'https://lichess.org/training/VNmTr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vnp0Q', 'Classical', 'JeanSL', 1766, 'Nakamiura1989', 1796, 'e4,c5,Nf3,Nc6,Nc3,d6,Bb5,Qb6,a4,a6,a5,Qc7,Nd5,Qd7,Nb6,Qd8,Bxc6+,bxc6,Nxa8,d5,exd5,cxd5,Nb6,Nf6,Ne5,Qd6,Nxf7,Kxf7,Nxc8,Qe6+,Qe2,Qxc8,d3,e6,O-O,Bd6,Re1,Re8,Bd2,e5,Bc3,d4,Bd2,Qc7,Bg5,Nd5,Qf3+,Kg6,Qxd5,Kxg5,Qf3,g6,g3,Re7,h4+,Kh6,g4,Rf7,g5+,Kg7,Qd5,Qd7,Rxe5,Qg4+,Kf1,Qf4,Re2,h6,gxh6+,Kxh6,Rae1,Qxh4,Kg1,Qh2+,Kf1,Bg3,Rd2', 'Rxf2+,Rxf2,Qxf2#', 'https://lichess.org/training/Vnp0Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VNPk8', 'Rapid', 'RabbitBoss', 1905, 'emirerden', 1745, 'd4,Nf6,c4,e6,Nc3,Bb4,Bf4,O-O,Nf3,Nc6,e3,b6,Be2,Bb7,O-O,d5,cxd5,exd5,Qc2,Bxc3,bxc3,Ne7,Rab1,Ng6,Bg3,Ne4,c4,Nxg3,hxg3,c6,cxd5,cxd5,Rfc1,Rc8,Qf5,Rxc1+,Rxc1,Bc8,Qd3,Bg4,Qa6,Qe7,a4,Rb8,Qb5,Qe4,Nd2,Qe6,Rc6', 'Bxe2,Rxe6,Bxb5', 'https://lichess.org/training/VNPk8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VnqfH', 'Rapid', 'VictorAlegre', 1622, 'Sospi01', 1761, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Bg5,Be7,cxd5,Nxd5,Bxe7,Qxe7+,Be2,Nf4,d5,Nxg2+,Kf1,Nf4', 'Qa4+,Nd7,Qxf4', 'https://lichess.org/training/VnqfH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VnQOq', 'Blitz', 'ferajaab40', 1565, 'coringa_alemao', 1523, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,a3,Be7,Re1,O-O,b4,a6,Nd5,b5,Nxf6+,Bxf6,Bd5,Bb7,Bb2,d6,Rc1,Rc8,Qd2,Kh8,h3,Qd7,Bxc6,Rxc6,Nxe5,Bxe5,Bxe5,Rxc1', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/VnQOq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vnQyh', 'Bullet', 'dubostanovitch', 1689, 'planomene', 1676, 'd4,e6,Nf3,d5,e3,Nf6,Bd3,Nc6,Nbd2,e5,dxe5,Nd7,O-O,Ncxe5,b3,Bd6,Bb2,O-O,Rc1,Nxf3+,Nxf3,c5,c4,Qe7,cxd5,b6,Bb1,Ne5,Nxe5,Bxe5,Qh5,f5,Bxe5,Qxe5,Rcd1,Bb7,d6,Rad8,d7,Rf7,Rd2,Rfxd7,Rxd7,Rxd7,Bxf5,Rf7,Qxh7+,Kf8,Qh8+,Ke7,Bg6,Qd5,Qh3,Rf6,Bc2,Qd2,Rd1,Qxc2,Qd7+,Kf8,Qd8+,Kf7,Rd7+,Kg6,Qe8+,Kh6', 'Qh8+,Qh7,Qxh7+,Kxh7,Rxb7', 'https://lichess.org/training/vnQyh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VNskC', 'Rapid', 'bedo777', 1878, 'Wittmanbg', 1962, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qa4,Nf6,Nf3,g6,c3,Bg7,Bd3,d6,O-O,O-O,h3,Bd7,Qb3,Rb8,Be3,Be6,Qd1,a6,Na3,b5,Nc2,b4,cxb4,Nxb4,Nxb4,Rxb4,Bxa6,Rxb2,Bd4,Rxa2,Rxa2,Bxa2,Qd2,Be6,Re1,Nd7,Bxg7,Kxg7,Qd4+,Kg8,Rd1,Nc5,Bf1,Bb3,Rc1,e5,Nxe5,Re8,Nc6,Qc7,Nb4,Rxe4', 'Qxe4,Nxe4,Rxc7', 'https://lichess.org/training/VNskC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vnSrp', 'Rapid', 'Schneeeeller', 1842, 'quattrobanane', 1668, 'e4,e6,e5,d5,exd6,cxd6,Nf3,Nc6,d4,Nf6,Bb5,Be7,c4,O-O,Bxc6,bxc6,Nc3,Ba6,b3,Qc7,O-O,Rfd8,Re1,c5,dxc5,Qxc5,Qd4,Qh5,Bb2,Bb7,Nd5,exd5,Rxe7,Bc6,Rae1,dxc4,Qxc4,Bxf3,gxf3,Qg5+,Kf1,d5,Bxf6,Qxf6,Qc7,Qxf3', 'Qxd8+,Rxd8,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/vnSrp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vnssS', 'Blitz', 'siege_dank', 2305, 'FM Aknok', 2487, 'e4,e6,d4,d5,Nc3,Bb4,e5,Qd7,Bd2,b6,a3,Bxc3,Bxc3,c5,f4,Ne7,Nf3,O-O,Bd3,Ba6', 'Bxh7+,Kxh7,Ng5+,Kg8,Qh5', 'https://lichess.org/training/vnssS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vNTXA', 'Rapid', 'scamax', 1688, 'Luuuntik', 1622, 'e4,e5,d3,Nc6,f4,exf4,Bxf4,d6,Nf3,Nf6,Be2,h6,c4,Be7,Nbd2,O-O,O-O,Nh5,Be3,f5,Nd4,Nxd4,Bxh5,Bf6,Bg6,fxe4,Nxe4,Be5,Rxf8+,Qxf8,Qd2,Bg4,Rf1,Qd8,Bxh6,gxh6,Qxh6,Qe7,Ng5,Qg7,Bf7+,Kf8,Nh7+,Ke7,Qh4+,Kd7,Bd5,Rh8', 'Rf7+,Qxf7,Bxf7', 'https://lichess.org/training/vNTXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vnudy', 'Rapid', 'Serdar60', 1758, 'Exagear', 1758, 'd4,e5,e3,c5,dxe5,f6,exf6,Nxf6,Nf3,d5,Bb5+,Bd7,Bxd7+,Nbxd7,Nc3,Nb6,O-O,Rc8,Re1,Be7,Bd2,O-O,Ne2,Ne4,Ng3,Nc4,Re2,Bd6,Nxe4,dxe4,Ne1,Qh4,g3,Qg4,Ng2,h5,Nf4,h4,Bc3,Rcd8,Qd5+,Kh8,Qxc4,Bxf4,exf4,h3,Re3,Rd7,Qxe4,Rfd8,f3,Qh5,Rd3,c4,Rxd7,Rxd7,Qe5', 'Qxf3,Qh5+,Qxh5', 'https://lichess.org/training/vnudy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vNVfU', 'Rapid', 'eysbroek1', 1866, 'TGMzamani', 1696, 'e4,e5,Nf3,Nf6,Bc4,Bc5,h3,d6,d3,a6,a4,Be6,Bxe6,fxe6,O-O,O-O,c3,Nh5,Nxe5,Ng3,Qb3,Nxf1', 'Qxe6+,Kh8,Nf7+,Rxf7,Qxf7', 'https://lichess.org/training/vNVfU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vNW68', 'Rapid', 'fantoma', 1663, 'BirderRatul', 1648, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,e6,e3,Bg7,Bd3,O-O,Nf3,c5,cxd5,exd5,O-O,c4,b3,b5,Nxb5,a6,Nc3,cxd3,Qxd3,Bb7,Na4,Nbd7,Ne5,h6,Nxd7,hxg5,Nxf6+,Bxf6,Nc5,Qc7,Rac1,Qe7,Na4,Rac8,Rxc8,Rxc8,Nb6,Rd8,Rc1,Kg7,Rc5,Rh8,Nxd5,Bxd5,Rxd5,Qc7,h3,g4,Rc5,Qd6,Rc4,gxh3,gxh3,Rxh3,Kf1,Qh2,Ke2,Qg2,Qd1,Qf3+,Kd2,Qxd1+,Kxd1,Rh1+,Ke2,Ra1,Rc2,Kh6,b4,Kg5,f4+,Kf5,Kd3,Ke6,Rc6+,Kf5', 'e4+,Kxf4,Rxf6+', 'https://lichess.org/training/vNW68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vnxEt', 'Classical', 'duba123456789', 1735, 'Mrblackneck', 1704, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,d4,exd4,Qxd4,Bb7,Qe5+,Be7,Be3,Nf6,Nbd2,O-O,O-O,Bd6,Qc3,Ng4,Bg5,f6,Bh4,Kh8,Bg3,Bxg3,hxg3,Qe8,Nh2,Ne5,Rfe1,d5,exd5,cxd5,f4,Qf7,fxe5,fxe5,Rxe5', 'Qf2+,Kh1,d4', 'https://lichess.org/training/vnxEt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vNXSD', 'Blitz', 'Zed_VeteRanz', 1510, 'ASEKEaseke', 1540, 'e4,e5,Nf3,Nc6,Nc3,d6,Bc4,Be6,Bxe6,fxe6,d4,Qf6,dxe5,Nxe5,Nxe5,Qxe5,O-O,O-O-O,f4,Qc5+,Kh1,d5,Qe2,Nf6,exd5,exd5,Be3,d4,Na4,Qb4,Bxd4,Rxd4,c3,Qxa4,cxd4,Bd6,b3,Qxd4,Rad1,Qc5,Qd3,Ng4,Qe2,h5,h3,Ne3,Rc1,Qd4,Rf3,Bxf4,Qb5,Nxg2,Rd3,Qe4', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/vNXSD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vNyLG', 'Rapid', 'JmEricsson', 2096, 'Medivch', 2060, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,c5,O-O,Be7,Re1,O-O,Nc3,cxd4,Nxd4,Bxg2,Kxg2,d5,cxd5,Nxd5,Ne4,Nd7,Nc6,Qc7,Nxe7+,Nxe7,Bf4,e5,Bd2,Qb7,f3,Rfd8,Qb3,Nf8,Bb4,Nc6,Bc3,Ne6,Red1,Ncd4,Bxd4,Nxd4,Qd3,h6,Kf2,Rac8,Rac1,b5,Rxc8,Rxc8', 'Nd6', 'https://lichess.org/training/vNyLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vnzcR', 'Rapid', 'Oceanking', 1669, 'Reichler', 1693, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,a6,O-O,c5,b3,Nc6,Bb2,Rc8,c4,Nh6,Ba3,Nf5,dxc5,d4,Nbd2,Qa5,Nb1,Bxc5,Bxc5,Qxc5,Nbd2,Nxe5,Qe2,Nxf3+,Qxf3,Qc6,Qf4,O-O,Rfe1,h6,Rad1,Rcd8,Nf3,Qc5,Re5,Qa3,Qd2,f6,Rxe6,d3,Ne1,b5,cxb5,axb5,Nxd3,Qa7,Qc2', 'Nd4,Qb1,Nxe6', 'https://lichess.org/training/vnzcR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vNzIq', 'Rapid', 'Ahmrovicky88', 1824, 'marylu16', 1806, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,Ng5,Qf6,Bxf7+,Ke7,Bb3,d3,O-O,dxc2,Qxc2,Bd6,Qd3,Ne5,Qh3,h6,Nc3,c6,Kh1,Ng6,Nf7,Rh7,Re1,Be5,Bg5,hxg5,Qxh7,Nh6,Nxe5,Nxe5,Rad1,d6,Qh8,Nhf7,Qh5,Be6,Bxe6,Qxe6,Ne2', 'Rh8,Qxh8,Nxh8', 'https://lichess.org/training/vNzIq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vnzKe', 'Blitz', 'IM MerVit', 2342, 'GM rasulovvugar', 2704, 'e4,c5,Nf3,Nc6,Nc3,Nf6,d4,cxd4,Nxd4,d6,Bg5,e6,Qd2,a6,O-O-O,Bd7,f3,Be7,g4,b5,Be3,h6,h4,Ne5,Rg1,b4,Nb1,Qa5,g5,hxg5,hxg5,Nh5,f4,Nc6,f5,Rc8,g6,Nxd4,gxf7+,Kxf7,Qxd4,Qxa2,fxe6+,Bxe6,Be2,Bf6,Qxb4,Rb8', 'Bxh5+,Rxh5,Qxb8', 'https://lichess.org/training/vnzKe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VNZQ9', 'Bullet', 'MaestroLikeXavi', 1591, 'robanddog', 1578, 'd4,e6,c3,d5,e3,Nf6,Bd3,c5,f4,cxd4,cxd4,Ne4,Nf3,f5,O-O,Nd7,Ne5,Nxe5,fxe5,Be7,Nd2,O-O,Rf3,Bd7,Rh3,h6,g4,fxg4,Qxg4,Nf2,Qg6,Nxh3+,Kg2,Ng5,h4,Ne4,Nxe4,dxe4,Bxe4,Bxh4', 'Qh7+,Kf7,Bg6+,Ke7,Qxg7+,Rf7,Qxf7#', 'https://lichess.org/training/VNZQ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vo0kc', 'Blitz', 'betmen91', 1575, 'evojtek', 1509, 'e4,c5,Nf3,Nc6,Bc4,Nf6,Ng5,e6,Qf3,Nd4,Qf4,Nxc2+,Kd1,Nxa1,e5,Qc7,d3,d5,exd6,Bxd6,Qh4,h6,Nf3,Be5,Re1,Bd4,Na3,Bd7,Nb5,Bxb5,Bxb5+,Ke7,Bf4,Qb6,a4,a6,Nxd4,axb5,axb5,cxd4,Be5,Qxb5,Qg3,Rhg8,Bc7,Qxb2', 'Qd6+,Ke8,Rxe6+,fxe6,Qxe6+,Kf8,Bd6#', 'https://lichess.org/training/Vo0kc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vo0Zh', 'Rapid', 'kunsh12', 1935, 'krnem_dunem', 1913, 'd4,e5,d5,e4,Nc3,f5,a3,Nf6,Bg5,Be7,e3,O-O,Bc4,Kh8,Bxf6,Bxf6,Qd2,d6,Nge2,Nd7,Nd4,Bxd4,Qxd4,Ne5,Bb3,Qg5,O-O-O,Qxg2,Rdf1,Nf3,Qc4,Rf7,Ne2,Qg5,Nf4,Qe7,c3,b6,Bd1,Ne5,Qe2,a5,h4,Ba6,Qe1,Bxf1,Qxf1,c5,Kb1,c4,h5,Nd3', 'Ng6+,Kg8,Nxe7+', 'https://lichess.org/training/Vo0Zh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vo1rm', 'Rapid', 'besik79', 1656, 'semasmagin', 1602, 'e4,c5,Nf3,e6,Bb5,a6,Be2,Qc7,c3,Nc6,d4,cxd4,cxd4,d6,O-O,Nf6,Nc3,Be7,e5,dxe5,dxe5,Nxe5,Nxe5,Qxe5,Re1,O-O,Be3,Bd6,g3,b5,Bf1,Bb7', 'Bf4,Qxe1,Qxe1', 'https://lichess.org/training/Vo1rm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VO46O', 'Rapid', 'adamessalih', 1928, 'michael1302', 1919, 'c4,e5,g3,Nf6,Bg2,c6,e4,d6,Nc3,Bg4,Nf3,Be7,h3,Bh5,g4,Bg6,Nh4,h5,Nxg6,fxg6,g5,Nh7,h4,Nf8,d3,Ne6,Be3,Nf4,Bxf4,exf4,Qb3,Qb6,Bf3,Qxb3,axb3,Nd7,d4,O-O,Kd2,a6,Ra2,b5,Rha1,b4,Ne2,Nb8,e5,Ra7,Nc1,c5,dxc5,dxc5,Nd3,Re8,Nxf4,Bd8,e6,Bc7,Nd5,Rxe6,Re1,Rxe1,Kxe1,Be5,Kd2,Nc6,Nf6+,gxf6,Bxc6,fxg5,hxg5,Bf4+,Kd3,Bxg5,Ra1,a5,Rg1,Bh4,Rxg6+,Kf7,Rh6,Bxf2', 'Rh7+,Kf6,Rxa7', 'https://lichess.org/training/VO46O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vo4G4', 'Rapid', 'StarZagan', 1705, 'Stas_333', 1716, 'e4,d5,Nf3,dxe4,Ng5,h6,Nxe4,b6,Nbc3,Bb7,d4,a6,Bd3,e6,O-O,Nf6,Nxf6+,Qxf6,Ne4,Qxd4', 'Bb5+,axb5,Qxd4', 'https://lichess.org/training/vo4G4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vO7Uw', 'Rapid', 'diogen613', 1826, 'zaZ7', 1635, 'e4,c5,Bc4,d6,Ne2,a6,a4,Nf6,Nbc3,Nc6,O-O,e6,f4,Be7,d4,cxd4,Nxd4,O-O,Nxc6,bxc6,Bd3,Bb7,e5,dxe5,fxe5,Qd4+,Kh1,Qxe5,Re1,Qh5,Be2,Qg6,Bd3,Qh5,Qxh5,Nxh5,Be3,Bb4,Re2,Nf6,Ne4,Ng4,Bc5,Bxc5,Nxc5,Bc8,h3,Nf6,Rf1,Rd8,a5,Rb8,b3,Rd5,Nxa6,Bxa6,Bxa6,Rxa5,Bc4,Nd5,Rf3,h6,Ref2,Ra7,Kh2,g6,g4,Kg7,h4,Rf8,Bxd5,cxd5,Rc3,Rd8,Rc6,Rdd7,Rd2,Rac7,Rxc7,Rxc7,Kg3,f6,g5,hxg5,hxg5,f5,Kf4,Kf7,Ke5,Ke7,Rh2,Rc6,Rh7+,Kf8,Kf6,Ke8,Ke5,Rxc2,Kxe6,f4', 'Rh8#', 'https://lichess.org/training/vO7Uw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VO8a9', 'Rapid', 'danbrunton', 1727, 'Trumhocvien', 1740, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Be2,g6,O-O,Bg7,Bb5+,Bd7,Qd3,O-O,Bc4,a6,Nd5,b5,Bb3,a5,a3,Bc6,Nxf6+,Bxf6,Bh6,Bg7', 'Bxg7,Kxg7,Qc3+', 'https://lichess.org/training/VO8a9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VO8f4', 'Rapid', 'zdobsizdub', 1784, 'StrongonPlow', 1835, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Nc6,Bxc6+,bxc6,Nf3,Nf6,b3,Bg4,Bb2,e6,O-O,Qc7,d3,Bd6,g3,h5,Nbd2,h4,Bxf6,gxf6,Qe1,hxg3,fxg3,Bh3,Rf2,Qb6,c3,Ke7,d4,Qc7,Re2,Rag8,Kf2,Bxg3+,hxg3,Qxg3+,Ke3,Bg4,Nf1,Qxf3+,Kd2,Rh1,Rf2,Qh3,Kc1,Bf5,c4,Rgg1,Qb4+,Kd7,Qb7+,Kd6', 'c5#', 'https://lichess.org/training/VO8f4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vOBS3', 'Rapid', 'Angrybird1974', 2191, 'karokan1975', 2240, 'c4,e5,g3,c6,Nf3,e4,Nd4,d5,cxd5,cxd5,d3,Nf6,Bg2,Nc6,Nxc6,bxc6,dxe4,Bb4+,Bd2,Bxd2+,Nxd2,dxe4,Nxe4,Qe7,Nd6+,Kf8,Nxc8,Rxc8,O-O,h5,h3,h4,g4,Rd8,Qc2,Nd5,Qxc6,Nf4,e3,Rh6,Qe4,Qxe4,Bxe4,Nxh3+,Kg2,Ng5,Bf5,Rb6,b3,g6,Bc2,Rd2,Rac1,Re6,Rfd1,Red6,Rxd2,Rxd2,Bb1,Rb2,Rh1,Ke7,Bd3,Rd2,Bc4,h3+,Kg3,Ne4+,Kf3,Nxf2,Rh2,Ne4,Rxh3', 'Ng5+,Kg3,Nxh3', 'https://lichess.org/training/vOBS3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('voCFt', 'Rapid', 'INMkhabuhadbaa', 1856, 'masterblade3334', 1986, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Be2,Nge7,O-O,Qb6,Re1,cxd4,cxd4,Nf5,a3,Nfxd4,Nxd4,Qxd4,Nc3,Bc5,Qxd4,Bxd4,Nb5,Bb6,Nd6+,Ke7,Bh5,f6,Nf7,Rhf8,exf6+,Kxf6', 'Bg5+,Kf5,g4#', 'https://lichess.org/training/voCFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VoChT', 'Rapid', 'Lucassherlock', 1818, 'VanessaCf', 1788, 'e4,e6,d4,d5,exd5,exd5,Nf3,h6,Nc3,Nf6,Bd3,c6,O-O,Bd6,Re1+,Be6,Be3,O-O,Qd2,Ng4,Bf4,Qc7,Bxd6,Qxd6,h3,Nf6,Ne5,Nbd7,Qf4,Nh5,Qh4,Nhf6,f4,Rae8,Re3,Ne4,Nxe4,dxe4,Bxe4,Qxd4,Re1,Nxe5,fxe5,Bd5', 'Bh7+,Kxh7,Qxd4', 'https://lichess.org/training/VoChT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VOCpq', 'Rapid', 'Rumpelskin', 1870, 'prasadk', 1900, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,Bc4,Bc5,d3,Ne7,Bg5,f6,Bf4,d5,exd5,Nxd5', 'Qh5+,g6,Qxd5,Qxd5,Bxd5', 'https://lichess.org/training/VOCpq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VOCwQ', 'Rapid', 'waseemmulla', 1820, 'Karpatika', 1818, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Qb3,Rb8,Be3,cxd4,cxd4,Bb4+,Nc3,Nge7,Bd3,Bxc3+,bxc3,Na5,Qb4,Nec6,Qc5,b6,Qd6,Nb7,Qa3,Nca5,O-O,Rc8,Rac1,Nc4,Qxa7,O-O,Qxb7,Bc6,Bg5,Qxg5,Nxg5,Bxb7,Bxh7+,Kh8,Bd3,Ra8,Ra1,Ba6,h4,g6,g3,Kg7,Kg2,Rfc8,Rh1,Ne3+,fxe3,Bxd3,h5,gxh5,Rxh5,Rxc3,Rah1,Rxa2+,Kf3,Kg6,Kf4,Rf2+,Nf3,Be4', 'Rg5#', 'https://lichess.org/training/VOCwQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VODud', 'Rapid', 'tanoori1385', 1867, 'tirald', 1700, 'e4,g6,d4,Bg7,Nc3,c6,Bc4,e5,Nf3,exd4,Nxd4,Ne7,Be3,O-O,Qd2,d5,exd5,Nxd5,Nxd5,cxd5,Bd3,Nc6,Nf3,Bxb2,Rb1,Bg7,O-O,Be6,Bh6,b6', 'Bxg7,Kxg7,Qc3+,d4,Qxc6', 'https://lichess.org/training/VODud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('voDUf', 'Rapid', 'stalemate20', 1920, 'ahmadsannan', 1837, 'e4,e6,d4,d5,Nc3,c5,dxc5,Bxc5,exd5,Nf6,Bg5,h6,Bxf6,Qxf6,Bb5+,Bd7,Bxd7+,Nxd7,dxe6', 'Qxf2#', 'https://lichess.org/training/voDUf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('voeCu', 'Bullet', 'sinskinner', 1841, 'lash7', 1807, 'e4,e5,Nf3,d6,Nc3,Nc6,Bc4,Be6,Bxe6,fxe6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,O-O-O,O-O,g3,Ng4,Bxe7,Qxe7,f4,e5,Qc4+,Kh8,Nd5,Qf7,Qxc7,Nf2,Qxf7,Rxf7,f5,Nxh1,Rxh1,g6,g4,gxf5,gxf5,Rg8,b4,Rg2,Kb2,Rf8,h4,Rc8,Rc1,Rh2,f6,Rxh4,Rg1,Rh2,f7,Rf2,Ne7,Rfxc2+,Kb3,R2c7', 'Rg8+,Rxg8,fxg8=Q#', 'https://lichess.org/training/voeCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('voHD2', 'Blitz', 'IM micfel', 2393, 'Slimslik02', 2332, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nc3,c5,Nf3,cxd4,Qxd4,Qxd4,Nxd4,a6,Be2,e5,Nf3,Nc6,Bg5,Be6,O-O-O,Rc8,Kb1,Ng4,Rhf1,Bc5,Bh4,Nd4,Nxd4,exd4,Ne4,Ne5,b3,d3,Bxd3,Nxd3,Rxd3,Bf5,f3,O-O,Rd5,Bxe4+,fxe4,Bb4,Rd7,Rce8,Rxb7,a5,Be1,Rxe4,Bxb4,axb4,Rxb4,Re2,Rb7,h5,a4,f5,a5,Rd8,a6,Rdd2,a7,Rb2+,Kc1,Rec2+,Kd1,Rd2+,Kc1,Rdc2+,Kd1,Rxg2,a8=Q+,Kh7,Rxg7+,Rxg7,Qe8,Rg6,Rxf5', 'Rg1+,Qe1,Rb1+', 'https://lichess.org/training/voHD2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VohHW', 'Blitz', 'NM Professor_Grego', 2178, 'sandersonmariquito', 1750, 'e4,g6,d4,Bg7,Be3,e6,Qd2,Ne7,Bh6,b6,Bxg7,Rg8,Bh6,Ba6,Bxa6,Nxa6,Be3,d5,e5,Nf5,c3,Qd7,Ne2,O-O-O,Ng3,Nxg3,hxg3,Rde8,Na3,g5,O-O-O,Qa4,Qc2,Qd7,Rxh7,f5,Rdh1,Qd8,Nb5,Kb7,Kb1,Re7,Bxg5,Rxg5,Rxe7,Qxe7,Qe2,Rg7,Rh8,Rh7,Rxh7,Qxh7,Kc2,Qh2,Qf3,Qg1,Na3,c5,Nb5,c4,Nd6+,Kc6,b3,cxb3+,axb3,b5,Nc8,Qa1,Nxa7+,Kb6,Nc8+,Kc7,Nd6,Qa2+,Kd3,Qxb3,Qh5,Nb4+,Ke2,Qc2+,Ke1,Nd3+,Kf1,Qc1+,Ke2,Qc2+,Ke3,Qxc3,Qf7+,Kb6,Qb7+,Ka5,Qa7+,Kb4,g4,Ne1+,Ke2,Nc2,Qc5+,Qxc5,dxc5,Kxc5,g5,b4,g6,b3,g7,b2,g8=Q,b1=Q,Qc8+,Kb4,Qc4+,Ka3,Nb5+', 'Qxb5,Qxb5,Nd4+,Ke1,Nxb5', 'https://lichess.org/training/VohHW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vOhxR', 'Blitz', 'dperez', 1883, 'Goltubiva', 1879, 'd4,d5,Nd2,Nf6,e3,e6,Bd3,b6,c3,Bb7,f4,Bd6,Qf3,Nbd7,Ne2,Qe7,O-O,Rb8,Rf2,O-O,g4,Ne8,Rg2,f6,Rg3,e5,fxe5,fxe5,Qg2,exd4,exd4,Bxg3,Qxg3,c5,Bf5,Nef6,Nf4,cxd4,cxd4,Ne4,Nxe4,dxe4,Be3,Rbd8,Be6+,Kh8', 'Ng6+,hxg6,Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/vOhxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vOI5J', 'Blitz', 'Nick_Jo17', 1734, 'KungFuPandaChess', 1929, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nc6,Be3,Bd6,Qd2,Nge7,O-O-O,f6,Bb5,Bf5,h3,Qd7,g4,Bg6,f4,O-O-O,f5,Bf7,Nge2,Kb8,Nf4,a6,Bxc6,Qxc6,Kb1,Rhe8,Qg2,Nxf5,gxf5,Rxe3,Qxg7,Rxc3,bxc3,Qxc3,Qxf7,Ba3,Nd3,Rd6,Qf8+,Ka7,Qxd6,Bxd6,Rhe1,Ba3,Re6,Qxd4,Rde1,Qc3,R1e3,c5,Re7,c4', 'Rxb7+,Kxb7,Nc5+,Bxc5,Rxc3', 'https://lichess.org/training/vOI5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VOIOF', 'Rapid', 'captaincomeback', 1995, 'jdsacredheart', 2021, 'd4,Nf6,Bf4,d5,e3,e6,h3,c5,c3,Nc6,Nf3,Bd6,Bxd6,Qxd6,dxc5,Qxc5,Nd4,O-O,Bd3,e5,Nb3,Qd6,O-O,Be6,N1d2,Rad8,Rc1,Ne7,c4,e4,c5,Qe5,Bb1,Qxb2,Nd4,Nc6,N2b3,Qa3,f3,Nxd4,Qxd4,exf3,Rxf3,Ne4,Qe5,Rc8,Rcf1,Nf6,Rg3,b6,Qxf6,g6,cxb6,axb6,h4,Rc6,Bxg6,hxg6,Rxg6+,fxg6,Qxf8+', 'Qxf8,Rxf8+,Kxf8', 'https://lichess.org/training/VOIOF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vOJKG', 'Rapid', 'Fialed', 1829, 'ajiqbot', 1773, 'c4,e5,Nc3,Nf6,Nf3,e4,Ng5,Bb4,Ngxe4,Bxc3,Nxc3,Nc6,d4,d5,e3,Bg4,Be2,Bxe2,Qxe2,Ne4,O-O,Nxc3,bxc3,O-O,Ba3,Re8,Rab1,Na5,cxd5,Qxd5,Rb5,Qc4,Qh5,b6,Bb4,c5,a4,cxb4,cxb4,Rac8,bxa5,g6,Qd5,Qxa4,axb6,Red8,Qb3,Qa6,b7,Rb8,Rb1,Rd6,h3,Qc6,Rc5,Qd7,Qb4,Rb6,Rc8+,Rxc8,bxc8=Q+,Qxc8,Qe1,Rxb1,Qxb1,a5,Qb5,Qa8,Qa4,Kg7,f3,h5,Kf2,g5,e4,Kg6,Ke3,h4,d5,Kf6,Qc6+', 'Qxc6,dxc6,Ke7,c7,Kd7,c8=R,Kxc8', 'https://lichess.org/training/vOJKG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vojm6', 'Classical', 'ivox100', 1951, 'Musicrafter12', 1833, 'e4,c5,Bc4,e6,Nc3,a6,d3,b5,Bb3,Nc6,Nf3,Bb7,a3,Nf6,Bg5,Be7,O-O,O-O,Re1,Qc7,e5,Nd5,Nxd5,exd5,Bxd5,Bxg5,Bxc6,Qxc6,Re4,Be7,Rg4,d6,exd6,Bxd6,Qd2,Kh8,Qg5,Rg8,Nh4,Rae8,Nf5,Be5,Rh4,Bf6', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/vojm6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VOmps', 'Rapid', 'nmnsj', 2009, 'Ackward74', 2004, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e5,d5,b5,Bg5,a6,a3,Be7,Bxf6,Bxf6,Nf3,O-O,Be2,Qd6,O-O,Nd7,b3,cxb3,Qxb3,Nc5,Qc2,Bd7,Rfc1,Be7,h3,f5,Nd2,f4,f3,Qg6,Kh1,Qh5,Bf1,Rf6,Ne2,Rg6,Ng1,Rg3,Qc3,Bd6,Nb3,Nxb3,Qxb3,Rf8,a4,b4,Rc4,a5,Rac1,Rf6,Rxc7,Bxc7,Rxc7,Rd6,Qc2,h6', 'Rxd7,Rxd7,Qc8+,Kh7,Qxd7', 'https://lichess.org/training/VOmps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VOo1G', 'Classical', 'caturagam', 1937, 'Naser_lo24', 1837, 'd4,e6,Bf4,d5,e3,Nf6,Nf3,Bd6,Bg3,b6,Ne5,O-O,Bd3,Bb7,Nd2,c5,c3,Nc6,Ndf3,Nxd4,exd4,a5,O-O,Ne4,Bh4,f6,Bxe4,dxe4,Nd2,g5,Qg4,Kh8,Nxe4,gxh4,Nf3', 'f5,Nxd6,fxg4', 'https://lichess.org/training/VOo1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vOOMM', 'Classical', 'nelsonscariot', 1850, 'RaptorRobb6ix', 2023, 'Nf3,c5,e4,d6,Bc4,Nf6,d3,a6,a3,e6,Nc3,Be7,O-O,O-O,h3,b5,Ba2,Nc6,Ne2,b4,axb4,Nxb4,Bb3,Bd7,c3,Nc6,Ng3,Qb6,Be3,Rfb8,Nd2,Ne5,Bc2,Qxb2,Ne2,Qb7,f4,Nc6,d4,cxd4,Nxd4,Nxd4,Bxd4,Bc6,Qe2,Bb5,c4,Bc6,Rae1,Qc7,e5,Ne8,Qh5,g6,Qg4,h5,Qg3,Qd8,Bxg6,Ng7,Bxh5,Bh4,Qg4,Bxe1,Rxe1,d5,f5,exf5,Qg3,dxc4,Bc3,Qd3,Re3,f4,Bxf7+,Kf8,Qxf4,Qf5,Qxf5', 'Nxf5,Re1,Kxf7', 'https://lichess.org/training/vOOMM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vOoXg', 'Blitz', 'Gollatzproblem', 2242, 'salehbinib', 1914, 'e4,e6,g3,d5,Bg2,Nf6,Nc3,c5,d3,d4,Nce2,e5,f4,Bd6,Nf3,Nc6,O-O,O-O,h3,a5,a3,a4,fxe5,Nxe5,Bf4,Nxf3+,Rxf3,Qc7,Bxd6,Qxd6,Nf4,b5,Qe2,Bb7,Raf1,Rae8,g4,b4,g5,Nd7,Nh5,Ne5,Rg3,bxa3,bxa3,c4,Nf6+,gxf6,gxf6+,Kh8,Rg7,Rg8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/vOoXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VoOxH', 'Blitz', 'Shymelys', 1721, 'Juan_DAdamo', 1901, 'e4,c5,Nf3,d6,Nc3,Nc6,Bb5,a6,Bxc6+,bxc6,d3,g6,Be3,Bg7,Qd2,h5,h3,Nf6,O-O-O,Rb8,Ng5,Qb6,b3,Qa5,d4,cxd4,Bxd4,c5,Be3,O-O,g4,Nd5,Nxd5', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/VoOxH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vOOYI', 'Classical', 'DaniloTheory', 1754, 'paowtza', 1712, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,Nf6,e5,dxe5,Nxe5,a6,Nxd7,Bxd7,Bc4,e6,Qf3,Be7,Qxb7,O-O,Bxa6,Rb8,Qf3,Rb6,Bc4,Bc6,Qe2,Qa8,f3,Nd5,Bxd5,Bxd5,Nc3,Bc6,d3,Bf6,Qe3,Rc8,Qxc5,Ra6,Qe3,Rd8,Bd2', 'Bd4,Qxd4,Rxd4', 'https://lichess.org/training/vOOYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vOOYV', 'Rapid', 'jeremyervin', 1888, 'farininho', 1712, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Bg5,e5,Ndb5,a6,Na3,Be7,Be2,b5,Nd5,O-O,Bxf6,Bxf6,O-O,Nd4,c3,Nc6,Nc2,Bb7,Nce3,g6,a4,bxa4,Qxa4,Bg5,Rfd1,Bxe3,Nxe3,Rb8,Nc4,Ne7,Nxd6,Qb6,Qc2,f5,Bc4+,Kg7,exf5,Nxf5,Nxf5+,Rxf5,Qd2,Rd8,Qxd8', 'Qxf2+,Kh1,Bxg2#', 'https://lichess.org/training/vOOYV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('voqi7', 'Rapid', 'dunkanmaklaud', 1727, 'qwe654rty', 1725, 'd4,d5,c4,dxc4,Nc3,Bd7,e4,b5,a4,c6,axb5,cxb5,f4,e6,Nf3,Bb4,Bd2,Bxc3,bxc3,a6,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/voqi7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VoqJd', 'Classical', 'to-bi-1021963', 1660, 'raaaj', 1634, 'f4,d5,c4,Nf6,cxd5,Nxd5,d4,e6,a3,b6,e4,Nf6,e5,Nd5,Nc3,Bb7,Qf3,Be7,Bb5+,Nc6,Nxd5,Qxd5,Qxd5,exd5,Nf3,O-O,Bd2,Na5,b4,Nb3,Ra2,Nxd2,Rxd2,a5,O-O,axb4,axb4,Bxb4,Rb2,Be7,g3,Ba6,Bxa6,Rxa6,Rfb1,Ra3,Ne1,Rfa8,Nc2,Ra2,Ne3,Rxb2,Rxb2,Ra5,Rc2,c5,Nxd5,Kf8,Nxe7,Kxe7,dxc5,Rxc5,Rxc5,bxc5,Kf2,Ke6,Ke3,Kd5,Kd3,c4+,Kc3,Kc5,g4,Kd5,h4', 'Ke4,f5,Kxe5', 'https://lichess.org/training/VoqJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VorXi', 'Blitz', 'dont_blunder', 2709, 'FM JuleVerne', 2574, 'c4,e6,Nf3,d5,d4,Nf6,g3,Bb4+,Bd2,Be7,Bg2,O-O,O-O,c6,Qc2,b6,Rd1,Bb7,b3,Ne4,Bf4,Nd7,Nc3,f5,Ne5,Ndf6,Nxe4,Nxe4,f3,Nf6,Rac1,Rc8,e4,Ba3,exf5,Bxc1,Bxc1,exf5,Qxf5,Qd6,Bh3,Rce8,Qc2,Bc8,Bxc8,Rxc8,Bf4,Qe6,c5,Nh5,Bc1,bxc5,Qxc5,Qh3,Qc2,c5,dxc5,Nxg3,hxg3', 'Qxg3+,Qg2,Qxe5', 'https://lichess.org/training/VorXi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vos4U', 'Rapid', 'maxzodiak', 1865, 'ZaherZohbi', 1874, 'e4,b6,d4,Bb7,Nc3,e6,Bd3,Bb4,Ne2,Nf6,Be3,Nxe4,Bxe4,Bxe4,f3,Bf5,O-O,Qf6,g4,Bg6,Nf4,Nc6,Nxg6,hxg6,Ne4,Qh4,Bf4,d5,Bg3,Qh6,Nc3,Bd6,f4,Kd7,Nb5,Be7,g5,Qh3,Rf2,Qg4,Qxg4,a6,Nc3,Nxd4,Rd1,Nf5,Qxf5,gxf5,Rfd2,f6,gxf6,Bxf6,Nxd5,exd5,Rxd5+,Kc8,Rxf5,Bxb2,Rf7,Rd8', 'Rxd8+,Kxd8,Rf8+,Kd7,Rxa8', 'https://lichess.org/training/vos4U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VoTWo', 'Classical', 'Ecktor', 1858, 'glu93290', 1618, 'e4,e5,Nf3,Nc6,Bc4,f6,d4,Na5,Bxg8,Rxg8,dxe5,fxe5,Qd5,Rh8,Qxa5,d6,Nc3,Bg4,Ng5,Qe7,Qb5+,Bd7,Qxb7,Rc8,Qxa7,h6,Nf3,Bg4,Be3,c5,Nd5,Qxa7,Nd2,Qa4,Nb6,Qxc2,Nxc8,Bxc8,O-O,Be7,b3,Bg5,Bxg5,hxg5,Nc4,Ba6,Rfc1,Qe2,Nxd6+,Kf8,Re1,Qh5,h3,g4,Re3,Rh6,Nf5,Rh7,Rc1,Bc8,Rxc5,Bxf5,exf5,g3,Rxg3,Qd1+,Kh2,Qd4,Rc8+,Kf7,Rc7+,Kf6,a4,Qxf2', 'Rg6+,Kxf5,Rf7+,Kxg6,Rxf2', 'https://lichess.org/training/VoTWo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VoUOG', 'Classical', 'ScaIan', 1789, 'HiroSaaS', 1660, 'd4,d5,c4,dxc4,Nc3,Nf6,e3,Nc6,Bxc4,e5,d5,Na5,Qa4+,c6,dxc6,bxc6,Nf3,Bd7,Nxe5,Nxc4,Qxc4,Be6,Qxc6+,Nd7,Ne4,Rc8,Nd6+', 'Bxd6,Qxd6,Qa5+,Bd2,Qxe5,Qxe5,Nxe5', 'https://lichess.org/training/VoUOG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VouW7', 'Rapid', 'bigkahuna_burger', 1922, 'tomdeaap', 1848, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,c6,Nf3,Bg4,Bd3,e6,O-O,Bd6,Ne4,Qd8,Bg5,Rg8,h3,Bxh3,gxh3,h6,Bh4,g5,Nxd6+,Qxd6,Bg3,Qe7,Re1,g4,Nh4,gxh3,Kh2,Ng4+,Kh1,h2,Nf5,Qg5,Nd6+,Kf8,Ne4', 'Nxf2+,Nxf2,Qxg3,Be4,Qxf2', 'https://lichess.org/training/VouW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VOVaF', 'Classical', 'cinarser', 1961, 'crazychess160', 2035, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bd3,Bg7,Be3,Nc6,O-O,O-O,h3,Bd7,Re1,Rc8,a3,Ne5,f4,Nc4,Bxc4,Rxc4,Qd3,Qc8,e5,dxe5,fxe5,Nh5,Bf2,Nf4,Qe3,Bh6,Rad1', 'Nxh3+,gxh3,Bxe3', 'https://lichess.org/training/VOVaF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VOy50', 'Rapid', 'n_korolev', 1605, 'Bebesauri0', 1795, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Bf5,O-O,e6,Nd4,Bg6,Re1,Be7,Ncb5,Nc6,Nb3,Qb6,d3,Nd5,a4,a5,c3,O-O,Nd2,Na7,Bxd5,exd5,Rxe7,Nxb5,axb5,Bxd3,Qf3,Bxb5,Qxd5,Bc6,Qc4,Rad8,Re1,Bd5,Qf4,Qg6,Nf3,c6,Rxa5,Rd6,g3,Rf6,Ne5,Re8,Rxd5,cxd5,Nxg6', 'Rxe1+,Kg2,Rxf4', 'https://lichess.org/training/VOy50');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vOztb', 'Classical', 'mars2020', 1720, 'TM2144', 1767, 'd4,e5,dxe5,d6,exd6,Bxd6,Nc3,Nf6,Nf3,O-O,Bg5,Re8,e4,Nxe4,Bxd8', 'Nxc3+,Kd2,Nxd1', 'https://lichess.org/training/vOztb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vP5cY', 'Blitz', 'talonanko2', 1506, 'ChristianCD03', 1529, 'e3,d5,f4,Nc6,Nf3,Nf6,Bb5,Bd7,h3,e6,O-O,Be7,d4,O-O,Nbd2,a6,Bxc6,Bxc6,c4,dxc4,Nxc4,Bb5,b3,Ne4,Re1,Nd6,Qe2,Nxc4,bxc4,Bc6,Bb2,b5,c5,b4,Ne5,Bb5,Qg4,f6,Nf3,f5,Qg3,Bc6', 'd5,Bf6,Bxf6,Qxf6,dxc6', 'https://lichess.org/training/vP5cY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vP5PP', 'Blitz', 'FM Mirzaad786', 2324, 'sinagod', 2310, 'd4,e6,Nf3,d5,g3,Nf6,Bg2,Be7,O-O,O-O,b3,b6,Bb2,Bb7,Nbd2,c5,c4,dxc4,Nxc4,Nbd7,e3,cxd4,Nxd4,Bxg2,Kxg2,Qc8,Rc1,Qb7+,Qf3,Qxf3+,Kxf3,Nc5,Rfd1,Rac8,Nb5,a6,Nbd6,Bxd6,Nxd6,Rcd8,b4,Na4,Bxf6,gxf6,Ne4,Kg7,g4,h6,h4,Rxd1,Rxd1,Rc8,Rd7,Rc4,Nd6,Rxb4,Rxf7+,Kg8,Rxf6,Rb2,Rxe6,Rxa2,Rxh6,Nc5,Rg6+,Kh7,h5,Nd3,Ne4', 'Ne5+,Kg3,Nxg6', 'https://lichess.org/training/vP5PP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vp6YV', 'Blitz', 'SrgRdnk', 2176, 'ChtMath', 1938, 'd4,d5,c4,c6,Nc3,Nf6,f3,Bf5,Bg5,e6,e4,Bg6,e5,Be7,exf6,Bxf6,Bxf6,Qxf6,cxd5,exd5,Nge2,O-O,Ng3,Nd7,Be2,Rfe8,O-O,Re7,Re1,Rae8,Qd2,Nb6,b3,Nd7,Rf1,h5,Nh1,h4,Nf2,Nf8,Ng4,Qe6,Ne5,Bh7,Rae1,Qc8,Bd3,Ng6,Nxg6,Rxe1,Rxe1,Rxe1+,Qxe1,Bxg6,Bxg6,fxg6,Qxh4,Qf5,Qe1,Qd3,Kf2,Qxd4+,Qe3,Qb4,Ne2,a5,Nf4,g5,Qe8+,Kh7,Qg6+,Kg8,Qe6+,Kh7,Qf5+,Kg8,Ne6,Qd2+,Kg3', 'Qe1+,Kh3,Qh4#', 'https://lichess.org/training/vp6YV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vP9Mz', 'Rapid', 'Ajdin', 1690, 'radmehr1358', 1895, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nd3,Nxe4,Qe2,Qe7,Nf4,Be6,d3,Nf6,Nxe6,fxe6,Bg5,Nbd7,Nc3,O-O-O,O-O-O,h6,Be3,g5,Bxa7,b6,Nb5,Kb7,d4,c6,Nxd6+,Kxa7', 'Qa6+,Kb8,Qb7#', 'https://lichess.org/training/vP9Mz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vPaOy', 'Rapid', 'ricardoalvesdasilva', 1991, 'bgnr400elo', 1842, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,h6,Bh4,Nbd7,Qc2,b6,Rc1,dxc4,Bxc4,Bb7,Be2,Rc8,O-O,c5,Qa4,a5,Rfd1,Bc6,Qb3,cxd4,Nxd4,Bd5,Nxd5,Nxd5,Bxe7,Qxe7,Bf3,Nc5,Qb5,Qd6,Ne2,Rfd8,Nf4,Nc7,Rxd6,Nxb5,Rxb6,Nd6,g3,Nf5,Rb5,Na4,Rxc8,Rxc8,b3,Rc1+,Kg2,Nc3,Rxa5,Rc2,Ra8+,Kh7,a4', 'Nxe3+,Kh3,Rxf2', 'https://lichess.org/training/vPaOy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VPAzY', 'Rapid', 'Arthas12', 2243, 'Antoine97', 2051, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,d4,Bd6,Re1,Qh4,g3,Qh3,Be3,Bg4,Qd3,Rae8,Nd2,Re6,Bxd5,cxd5,Qf1,Qh5,f4,Rfe8,Bf2,Be2,Qg2,Kf8,h3,Qf5,Nb3,Qc2,Nc5,Bxc5,dxc5,Qxb2,Bd4,Qd2,Qxd5,Qd3,Qg2,h5,Kh2,Bf3,Rxe6,Bxg2,Rxe8+,Kxe8,Kxg2,Qe2+,Kg1,g6,a3,Kd7,Rf1,Qa2,f5,Qxa3,fxg6,fxg6,Rf7+,Kc6,Rf6+,Kd5,c6,Qc1+,Kf2,Qd2+,Kg1,Qe1+,Kg2,Qe2+,Kg1,Qe7,Rxg6,b4,Rg7,Qe1+,Kg2,Qe2+,Kg1,b3,c7,Qc4,Rg5+,Kd6,Rc5,Qxc5', 'Bxc5+,Kxc7,Ba3', 'https://lichess.org/training/VPAzY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vpB40', 'Rapid', 'wroy', 2264, 'kclions23', 1818, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be2,Nc6,Nxc6,bxc6,O-O,d6,c4,Nf6,Nc3,d5,exd5,cxd5,Nxd5,Nxd5,cxd5,O-O,Qb3,Bf5,Bf4,e5,Be3,Rb8,Qa3,a5,Rfd1,e4,Rab1,Be5,Bc5,Re8,Qe3,Qh4,g3,Qf6,b3,h5,Bd4,Bxd4,Qxd4,Qd6,Rbc1,Rb4,Qc5,Qe5,d6,Qb2,d7,Rd8,Qe7,Rxd7,Rxd7,Bxd7,Rc7,Qxe2,Rxd7,Qf3,Qe5,Rb6', 'Rd8+,Kh7,Rh8#', 'https://lichess.org/training/vpB40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vPBvJ', 'Rapid', 'rycvoland66', 1917, 'Illinskyi', 1946, 'd4,d5,c4,c6,Nc3,g6,Bf4,Bg7,e3,Nf6,Nf3,Ne4,Nxe4,dxe4,Ng5,f5,c5,h6,Nh3,g5,Bxb8,Qa5+,Qd2,Qxd2+,Kxd2,Rxb8,Bc4,e5,b4,exd4,exd4,Bxd4,f3,Bxa1,Rxa1,exf3,Re1+,Kd8,gxf3,f4,Nf2,Re8,Rd1,Re3,Ng4,Rxf3', 'Ke2+,Rd3,Rxd3+', 'https://lichess.org/training/vPBvJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VPcv2', 'Blitz', 'WarriorXQueen', 2106, 'JuhaHeino', 2185, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Be2,h5,O-O,Ng4,d3,Qh4,h3,Bxf2+,Kh1,Qg3,Bxg4,hxg4,Rxf2,gxh3,Qf3', 'hxg2+,Kg1,Rh1#', 'https://lichess.org/training/VPcv2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VPdPC', 'Blitz', 'foxgen', 1863, 'LeoMors', 1823, 'd4,Nf6,Bf4,e6,Nf3,h6,h3,b6,e3,Bb7,Be2,d5,O-O,Be7,Nbd2,Nbd7,c4,c5,b3,Rc8,dxc5,bxc5,Qc2,O-O,Rfd1,Nb6,Ne5,Nbd7,Ndf3,Ne4,Bd3,Bf6,Rac1,Nxe5,Nxe5,Bxe5,Bxe5,Qe7,Bxe4,dxe4,Bd6,Qg5,Bxf8,Rxf8,Rd7,Bc8,Rxa7,e5,Kh2,f5,Rc7,Qh5,Rxc5,g5,g3,f4,g4,Bxg4,Kg1,Qxh3,Qxe4,Bf5,Qd5+,Rf7,Qxe5,Qg4+,Kf1', 'Bd3+,Ke1,Qe2#', 'https://lichess.org/training/VPdPC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vPebd', 'Rapid', 'CchEssbrain64', 1985, 'kentt', 1860, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,cxd5,Nxd5,Nxd5,Qxd5,e3,e6,b3,Qa5+,Bd2,Bb4,Be2,Nd7,O-O,Bxd2,Nxd2,Nf6,Nc4,Qc7,Bd3,Bxd3,Qxd3,O-O,Rfd1,b5,Ne5,Nd7,Nf3,h6,Rac1,Qb6,Rc2,Rac8,Rdc1,Rfd8,Qe4,Nf6,Qe5,Rd5,Qg3,Ne4,Qh4,Nf6,Ne5,Rd6,h3,Nd5,Qh5,Rc7,Qf3,f6,Ng6,Nb4,Qg3,Rdd7,Rd2,Kf7,h4,Rd5,Nf4,Rdd7,Qg6+,Kg8,Nxe6,Rc8,Nc5,Re7,Qf5,Rcc7,Qf3,a5,a3,Na6,Nxa6,Qxa6,Rdc2,Re6,d5,Rd6,Rxc6,Rdxc6,Rxc6,Qb7,Rxc7,Qxc7,Qf4,Qxf4,exf4,Kf8,d6,Ke8,f5,Kd7,f4,Kxd6,Kf2,Kd5,Ke3,Kc5,Kd3,a4,b4+,Kd5,g3', 'h5,Kc3,Ke4', 'https://lichess.org/training/vPebd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vPEoN', 'Classical', 'farhad4400', 1640, 'zaragan', 1670, 'd4,e6,e4,d6,d5,c6,Qd3,cxd5,exd5,exd5,Qxd5,Nf6,Qb5+,Nc6,Qe2+,Be6,Qb5,Rb8,Qa4,a6,Nc3,b5,Nxb5,axb5,Bxb5,Bd7,Bg5,Qc7,O-O-O,Be7,Re1,O-O,c4,Ne5,Bxd7,Nxc4,Rxe7,Nb6+,Qc2,Qxc2+,Kxc2,Nfxd7,Nf3,Rfc8+,Kb1,f6,Be3,Nc4,Rxd7,Rxb2+,Ka1,Rcb8,Bd4,Rxf2,Bxf2,Na3,Nd4,h5,Ne6', 'Nc2#', 'https://lichess.org/training/vPEoN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VPFjV', 'Rapid', 'BEBEPHENIX', 1708, 'fatalkinq80', 1622, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nf6,Bd3,Bxd3,Qxd3,e6,Bf4,Bd6,Ne5,Bxe5,Bxe5,Nbd7,O-O-O,Nxe5,dxe5,Qxd3,Rxd3,Nd7,f4,O-O-O,Rhd1,Nc5,Rxd8+,Rxd8,Ne2,Rxd1+,Kxd1,Ne4,c3,c5,Kc2,Kd7,g3,Ke7,Kd3,Nf2+,Kc4,b6,Kb5,f6,Ka6,Nd3,exf6+,Kxf6,b3,g5,Kxa7,gxf4,gxf4,Kf5,Kxb6,Nxf4,Nxf4,Kxf4,Kxc5,e5,Kc4', 'e4,b4,e3,Kd3,Kf3', 'https://lichess.org/training/VPFjV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vPfS7', 'Blitz', 'Shahoomah', 1807, 'honey2010', 2139, 'e4,e5,Nc3,d6,h3,Nc6,Bc4,Be6,Bb3,Bxb3,axb3,Nf6,Nf3,Be7,O-O,O-O,Nd5,Nxd5,exd5,Nb8,d3,f5,c4,f4,Qe2,Nd7,Qe4,Nf6,Qe1,h6,Nh4,Qd7,Ng6,Rf7,Nxe7+,Qxe7,f3,g5,Qf2,Kh7,Bd2,Rg8,Rxa7,b6,Bc3,h5,Qc2,Kh8,d4,g4,dxe5,dxe5,Re1,gxh3,Rxe5,Qc5+,Kf1,hxg2+,Ke2,g1=Q,Rxh5+,Kg7,Bxf6+,Kxf6,Qf5+,Ke7,Qe5+,Kd7', 'Qe6+,Kd8,Ra8#', 'https://lichess.org/training/vPfS7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vphSM', 'Blitz', 'Evgeniy-MSK', 1555, 'Mr_Huxley', 1529, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,c4,Nf6,f3,g6,Be3,Bg7,Nc3,O-O,Be2,Nd7,Qd2,Nxd4,Bxd4,e5,Be3,Nc5,O-O,Be6,Rfd1,a6,a3,Nb3,Qd3,Nxa1,Rxa1,Qc7,Nd5,Bxd5,cxd5,b5,Rc1,Qd7,b4,Rfc8,Kf2,Rxc1,Bxc1,Rc8,Be3,f5,Bd2,fxe4,fxe4,Qf7+,Bf3,Rc4,Ke2,Qc7,g4,Rc2,g5,h6,h4,Qc4,Qxc4,bxc4,Kd1,Ra2,Bc1,Rh2,gxh6,Bf6,h5,gxh5,Be2,Kh7,Bxc4,Rh1+,Kc2,Rh2+,Kb3,h4,Bxa6,h3,b5,Re2,b6,Rxe4,b7,h2,b8=Q,h1=Q,Qc7+,Kg6,h7,Qxh7', 'Qxh7+,Kxh7,Bd3,Kg7,Bxe4', 'https://lichess.org/training/vphSM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VPJFk', 'Classical', 'Moest346', 1683, 'Charles1259', 1663, 'e4,e6,d4,b6,Nc3,Bb4,Bd3,Bxc3+,bxc3,h6,Nf3,Qe7,O-O,Ba6,c4,Nc6,d5,Na5,Bf4,O-O-O,c3,Bxc4,Bxc4,Nxc4,Qa4,Na5,Rfd1,exd5,exd5,Nf6,Bxc7,Kxc7,d6+,Qxd6,Rxd6,Kxd6,Rd1+,Kc7,Qf4+,Kc8,Ne5,Rhf8,g4,Nb7,Qc4+,Nc5,Nxf7', 'd5,Qf4,Rxf7', 'https://lichess.org/training/VPJFk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VPjKu', 'Rapid', 'Thekingofnothing', 1714, 'SanaSeppo', 1734, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,h3,Bh5,Be2,Nf6,O-O,e6,d4,Bd6,Bg5,Nbd7,Bxf6,Nxf6,Re1,Nd5,Nxd5,Qxd5,c4,Qc6,d5,exd5,cxd5,Qb6,Bb5+,Kf8,Qe2,Bxf3', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/VPjKu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VpjXa', 'Blitz', 'St0rm777', 2074, 'Qwerty333', 2043, 'd4,d5,Nf3,Nf6,Nc3,Bg4,Bf4,e6,e3,Bb4,a3,Ba5,b4,Bb6,Na4,O-O,Nxb6,axb6,Be2,Ne4,Qd3,Bf5,Qd1,Nc3,Qd2,Nxe2,Qxe2,Nd7,O-O,Re8,Ne5,Nxe5,Bxe5,Qd7,c4,c6,Rfc1,Ra4,cxd5,exd5,b5,Rea8,bxc6,bxc6,Qb2,b5,h3,f6,Bg3,Qe7,Rxc6,Rxa3,Rxa3,Qxa3,Qxb5,Qa1+,Kh2,Be4,f3,Bxf3,gxf3,Ra2+,Bf2', 'Rxf2+,Kg3,Qg1+,Kh4,Qg5#', 'https://lichess.org/training/VpjXa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vplGf', 'Rapid', 'Malinpolen', 1978, 'AliNdr', 1795, 'd4,d5,c4,Nf6,Nc3,Bf5,Nf3,e6,e3,a6,Bd3,Bb4,Bxf5,exf5,Qc2,dxc4,Qxf5,Bxc3+,bxc3,O-O,O-O,b5,e4,Nbd7,Bg5,g6,Qf4,Nh5,Bxd8,Nxf4,Bxc7,Ne2+,Kh1,Nxc3,Rfe1,Rac8,Ba5,Na4,d5,Rfe8,e5,Rc5,Rad1,c3,e6,fxe6,dxe6,c2', 'exd7,Rxe1+,Rxe1', 'https://lichess.org/training/vplGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VPm52', 'Rapid', 'Anatolii777', 2087, 'j1958', 2097, 'c4,e5,Nc3,Nf6,g3,c6,Nf3,d6,Bg2,Be7,O-O,O-O,e4,h6,d4,exd4,Nxd4,Qb6,b3,a5,Bb2,Rd8,Rc1,Bf8,Nce2,Nbd7,Nf5,Ne5,Bd4,c5,Ba1,Bxf5,exf5,Re8,Nf4,a4,h3,axb3,axb3,Ra2,Bc3,Nc6,Bxf6,gxf6,Nh5,Ree2,Nxf6+,Kg7,Nh5+,Kh7,f6', 'Rad2,Rb1,Rxd1', 'https://lichess.org/training/VPm52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vPmJH', 'Rapid', 'mko', 2006, 'ibrahimsabirturqay', 1890, 'd4,Nf6,c4,d6,Nc3,g6,Nf3,Bg7,e4,Nbd7,Be2,O-O,O-O,Re8,Bg5,h6,Bh4,g5,Bg3,Nh5,Qd3,Nxg3,fxg3,e5,d5,Nc5,Qe3,a5,h4,g4,Nh2,h5,Rf2,Re7,Nf1,Qf8,Qc1,f5,Qc2,f4,Bd3,Rf7,Na4,Nxd3,Qxd3,Qe7,Nc3,Bd7,Nd2,Raf8,Raf1,Kh8,Ne2,fxg3,Rxf7,Rxf7,Rxf7,Qxf7,Qxg3,Bh6,Qf2', 'Qxf2+,Kxf2,Bxd2', 'https://lichess.org/training/vPmJH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vpMrw', 'Blitz', 'das_schach', 2207, 'FM virapo', 2336, 'd4,g6,c4,Bg7,e4,c5,d5,d6,Nc3,Nf6,Be2,e6,Bg5,h6,Bf4,e5,Be3,O-O,g4,a6,h4,b5,Qd2,b4,Nd1,Nxe4,Qc2,Nf6,g5,hxg5,Bxg5,Bf5,Bd3,e4,Be2,Nbd7,Ne3,Ne5,Nxf5,gxf5,h5,Qe8,h6,Bh8,O-O-O,Kh7,Nh3,Rg8,Bf4,Nfg4,f3,exf3,Qxf5+,Rg6,Ng5+,Kg8,h7+,Kf8,Bxf3,Nxf3,Nxf3,Qc8,Qh5,Nf6,Bh6+,Ke8,Rde1+,Kd8,Bg5,Kc7,Re7+,Kb6,Qh4,Qf5,Rf1,Rf8,Nd2', 'Qxg5,Qxg5,Rxg5', 'https://lichess.org/training/vpMrw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vPmTa', 'Blitz', 'Geri0901', 2070, 'DSanya1', 1576, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,a5,f3,d5,cxd5,Nxd5,Nxd5,Bxd2+,Qxd2,Qxd5,e4,Qc6,Rc1,Qb6,Bd3,O-O,Ne2,Rd8,O-O,Nd7,Kh1,Nf8,Bb1,c5,Rfd1,cxd4,e5,Ng6,Qg5,h6,Qg3,Qxb2,Nf4,Nxf4,Qxf4,b5,Rc7,Rf8,Qe4,g6,Qxa8,Qe2,Rg1,d3,Rxc8,Rxc8,Qxc8+,Kg7,Qd7,d2,Bc2,h5,Rd1', 'Qe1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/vPmTa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VpMyh', 'Bullet', 'dark_horizon', 1955, 'diddi1', 1868, 'c4,e5,Nc3,Ne7,Nf3,Ng6,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Bg5+,f6,O-O-O+,Ke8,Nd5,Na6,Be3,c6,Nc3,Bb4,g3,Be6,Nd2,Bxc3,bxc3,Rd8,Bg2,Kf7,Bxa7,Ne7,Kb2,Nf5,e4,Nd6,c5,Nc4+,Nxc4,Bxc4,Bb6,Rxd1,Rxd1,Ke6,Rd6+,Kf7,Rd7+,Kg6,Rxb7,Rb8,Rxb8,Nxb8,Bc7,Nd7,Bd6,h5,a4,Kf7,Bf3,g6,a5,Ba6,Kc2,Ke6,Kd2,f5,exf5+,Kxf5,Be2,Bb7,a6,Ba8,h3,Nf6,Bd3+,e4,Bc4,Nd5,Bxd5,cxd5,Ke3,Ke6,Kd4,Bc6,a7,Ba8,Bf4,Bc6,Bg5,Ba8,Be7,Bc6,Bd6,Ba8,c4,Bc6,cxd5+,Bxd5,Kc3,Bc6,Kb4,Kd5,Ka5,g5,Kb6,g4,hxg4,h4,Kc7', 'h3,g5,h2,g6,h1=Q,g7,Qh7', 'https://lichess.org/training/VpMyh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vpOro', 'Rapid', 'netley', 1796, 'otto_brannza', 1767, 'e4,c5,c3,Nc6,d4,d5,exd5,Qxd5,Nf3,e6,Be3,Nf6,dxc5,Qxd1+,Kxd1,Ng4,b4,Nxe3+,fxe3,Be7,Bb5,Bd7,Nd4,a5,Nxc6,bxc6,Bd3,axb4,cxb4', 'Bf6,Kc2,Bxa1', 'https://lichess.org/training/vpOro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vpr8r', 'Rapid', 'AJSF2020', 2260, 'rfbari', 1667, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Nf3,Bg4,h3,Bxf3,Qxf3,e6,Bd2,Nf6,Bd3,Qb6,O-O,Bd6,a3,O-O,Rfe1,Nbd7,Bf4,Qxd4,Bxd6,Qxd6,Rad1,Qc5,Qg3,Qb6,b4,a5,Na4,Qd8,Nc5,Nxc5', 'Bxh7+,Nxh7,Rxd8,Rfxd8,bxc5', 'https://lichess.org/training/Vpr8r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VprAF', 'Classical', 'malermeister', 1805, 'treemonkeya', 1704, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nce2,c5,c3,Nc6,a3,Qb6,b4,cxd4,cxd4,a5,bxa5,Qxa5+,Qd2,Qxd2+,Bxd2,Rxa3,Rxa3,Bxa3,Nf3,Bb4,Nf4,Ke7,Bd3,h6,h4,Bxd2+,Kxd2,Na5,Rb1,b6,Bb5,Nc4+,Bxc4,dxc4,Kc3,Bb7,Kxc4,Rc8+,Kd3,Bxf3,gxf3,Rc6,Ne2,Nf8,h5,Nd7,f4,Nb8,Nc3,Na6,f3,Nc7,Rg1,Kf8,Ra1,f5,Ra7', 'Rxc3+,Kxc3,Nb5+,Kc4,Nxa7', 'https://lichess.org/training/VprAF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vpRH2', 'Rapid', 'orfanela17', 1633, 'kovacskriszti', 1752, 'e4,c5,Nf3,d6,Bc4,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f4,Bg7,O-O,O-O,Be3,Bh6,h3,Nh5,g4,Nxd4,gxh5,Nc6,Rf3,e5,f5,Bxe3+,Rxe3,Qg5+,Kf2,Qxh5,Qxh5,gxh5,Rg1+,Kh8,Reg3,Bd7,Nd5,Rg8,Nf6,Rxg3,Rxg3,Na5,Bxf7,Rf8,Rg8+,Rxg8,Bxg8,Bc6,Bxh7', 'Kg7,Nxh5+,Kxh7', 'https://lichess.org/training/vpRH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vpRM8', 'Rapid', 'Theodoros_60', 1730, 'yogofrompogo', 2014, 'c4,e6,d4,d5,e3,Nf6,Nc3,Nc6,a3,Be7,b4,O-O,Be2,e5,cxd5,Nxd5,Nxd5,Qxd5,Bf3,Qd8,d5,Nb8,Qc2,b6', 'd6,c6,dxe7', 'https://lichess.org/training/vpRM8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vPrNM', 'Classical', 'CerebralAssassin19', 2007, 'monlevade', 1999, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Nc6,O-O-O,Bd7,h4,h5,Be2,Rc8,Kb1,Ne5,g4,hxg4,f4,Rxc3,fxe5,dxe5,bxc3,Nxe4,Qd3,exd4,Bxd4,Bc6,Qe3,Bxd4,cxd4,Qa5,Rd3,Nd2+,Rxd2,Bxh1,Bxg4,Bd5,c3,Qb5+,Ka1,f5,Be2,Qa5,Qg3,Qa3,Qxg6+,Kh8,Qh6+,Kg8,Qg6+,Kh8,Rc2,Rf6,Qh5+,Kg8,Qg5+,Kf8,h5,Bxa2,Rxa2,Qxc3+,Rb2,Qe1+,Ka2,Qa5+,Kb1,Qd5,Rb5', 'Qe4+,Kc1,Qxe2', 'https://lichess.org/training/vPrNM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VpRx0', 'Rapid', 'Aymen55ST', 1699, 'Mrozek1', 1650, 'd4,d5,c4,dxc4,e3,b5,Nc3,c6,Nf3,e6,e4,Bb4,Bd2,Ne7,a3,Bxc3,Bxc3,Bb7,d5,cxd5,Bxg7,Rg8,Bf6,Nbc6,e5,Qd7,Nd4,O-O-O,Nxb5,a6,Nd6+,Kb8,g3,Ng6,Bxd8,Qxd8,Nxb7,Kxb7,f4,Qb6,Rb1,Nge7,Qh5,Qe3+,Be2,Qe4,O-O,Rg7,Qf3,Qxf3,Bxf3,Nd4,Kf2,Nef5,Rfc1,Nb3,Rc3,Nfd4,Bd1,a5,a4,Kb6,Ke3,Nf5+,Kf3', 'Nd2+,Ke2,Nxb1', 'https://lichess.org/training/VpRx0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VpSOs', 'Rapid', 'Cabai-Rawit', 1957, 'SAITAMA2006', 1935, 'e4,c6,Nf3,d5,exd5,cxd5,c3,Bg4,h3,Bh5,Be2,Bxf3,Bxf3,e5,Qb3,e4,Qxb7,exf3,Qxa8,Qe7+,Kf1,Qe2+,Kg1,Qe1+,Kh2', 'Bd6+,g3,Qxf2#', 'https://lichess.org/training/VpSOs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vpt5H', 'Rapid', 'biras', 1780, 'super_pro12', 1770, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Qf6,Nxc3,Bb4,Qb3,Bxc3+,bxc3,Ne7,Nf3,h6,O-O,Nbc6,e5,Qf5,Nd4,Nxd4,cxd4,O-O,Bb2,b6,Ba3,Re8,Rfe1,Bb7,d5,Ng6,e6,dxe6,dxe6,fxe6,Bxe6+,Rxe6,Rxe6', 'Bd5,Qxd5,Qxd5', 'https://lichess.org/training/vpt5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vPTG3', 'Rapid', 'Rodanik', 1733, 'jcdcando', 1729, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,Re1,a6,Ba4,Be7,c3,O-O,d4,b5,Bb3,Na5,Bc2,Nc4,b3,Nb6,Ba3,d5,Bxe7,Qxe7,exd5,e4,Ne5,Nbxd5,Bxe4,Bb7,c4,Nxe4,cxd5,Bxd5,f3,Nd6,Ng6,Qg5,Nxf8,Rxf8,Re5,Bxf3,Qxf3,Qc1+,Qf1,Qb2,Nd2', 'Qxd4+,Kh1,Qxe5', 'https://lichess.org/training/vPTG3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vptSY', 'Rapid', 'Achim1965', 1841, 'GhengisKhan', 1671, 'e4,e5,Nf3,Nf6,Nxe5,d5,d4,dxe4,Bc4,Be6,Bxe6,fxe6,O-O,Bd6,Nc3,O-O,Bg5,Qe8,Qe2,Nd5,Nxe4,Bxe5,dxe5,Nc6,c4,Nb6,f4,Qg6,b3,Nd4,Qd3,Nf5,Rf2,h6,Nf6+,gxf6,Bxf6,Rxf6,exf6,Qxf6,Rd1,Kh7,g4,Rg8,Rg2,Kh8', 'gxf5,Rxg2+,Kxg2', 'https://lichess.org/training/vptSY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vPU9B', 'Rapid', 'Damscientist', 1764, 'poosheg', 1675, 'e4,Nc6,Nc3,Nf6,f4,e5,Nf3,d5,exd5,Nxd5,fxe5,Bb4,Bc4,Be6,Nxd5,Bxd5,Qe2,O-O,O-O,Re8,d4,Bxf3,Qxf3', 'Qxd4+,Kh1,Qxc4', 'https://lichess.org/training/vPU9B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VPUCL', 'Blitz', 'kamalchess11', 1716, 'Trufel1987', 1713, 'e4,e5,Bc4,Nf6,Nf3,Bc5,d3,d6,Bg5,O-O,Nc3,c6,Qd2,Bg4,O-O-O,b5,Bb3,a5,a3,a4,Ba2,Nbd7,h3,Be6,d4,Bb6,d5,cxd5,Bxd5,Bxd5,Nxd5,Bd4,Nxd4,exd4,Qxd4,h6,Bxf6,Nxf6,Nxf6+,Qxf6,Qxf6,gxf6,Rxd6,Rfd8,Rxf6,Kg7,Rb6,Ra7,Rxb5,Rad7,f3,Rd2,Rg1,Rf2,Rd5,Rc8,c3,Rb8,Rd2,Rxd2,Kxd2,Rxb2+,Kd3,Rb3,Ra1,Rb2,g4,Kf6,f4,Ke6,e5,Kd5,c4+,Kc5,f5,Rb3+,Ke4,Rxh3,e6,fxe6,f6,Kd6,f7,Ke7,Rf1,Kf8,Rf3,Rxf3,Kxf3,Kxf7,c5,Kf6,c6', 'Ke7,Kg3,Kd6,Kf4,Kxc6,Ke5,Kd7', 'https://lichess.org/training/VPUCL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vpuII', 'Classical', 'kolesove', 1683, 'Alex_Geo123', 1665, 'd4,d5,c4,Nf6,Nc3,Be6,c5,Nc6,Bf4,Ne4,Nb5,Rc8,Nf3,a6,Nc3,b5,a3,Bf5,e3,Bg4,Be2,Bxf3,Bxf3,Nxc3,bxc3,e5,dxe5,Bxc5,Bxd5,Qd7,Qf3,O-O,Bxc6,Qd3,Qe2', 'Qxc3+,Qd2,Qxa1+', 'https://lichess.org/training/vpuII');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vpy7S', 'Rapid', 'Pavel_Bulgakov', 1917, 'saprin', 1777, 'd4,Nf6,c4,e6,Nc3,b6,e4,Bb7,Bd3,Bb4,Qc2,Bxc3+,bxc3,d6,Nf3,Nbd7,Bg5,Qc8,O-O,h6,Bh4,g5,Bg3,Nh5,e5,Bxf3,gxf3,d5,cxd5,exd5,e6,Nf8,exf7+,Kxf7,Be5,Rg8,Bh7,Qh3,Bxg8+,Kxg8,Rfe1,Kf7,Bxc7,Ne6,Rxe6,Kxe6,Qg6+,Kd7,Qd6+,Kc8,Re1', 'Nf4,Qxf4,gxf4', 'https://lichess.org/training/Vpy7S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vpZ76', 'Blitz', 'dhshsdihdhd', 1593, 'muratky', 1644, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Qe2,Nc6,Qxe6,Bxe6,Nf3,Nb4,Kd1,Bf5,d3,O-O-O,Nb5,a6,a3,Nd5,Nc3,Ngf6,Bg5,h6,Bxf6,exf6,Be2,Bc5,Rf1,Nxc3+,bxc3,g5,d4,Bb6,Bc4,Be6,Bxe6+,fxe6,Re1,Rhe8,Rb1,Ba5,Rb3,Rd6,Re3,Rg8,h3,g4,hxg4,Rxg4,g3,c5,Kc1,cxd4,cxd4,Kc7,Kb2,Bb6,Red3,Bxd4+,Nxd4,Rgxd4,Rbc3+,Kb8,Rxd4,Rxd4,Re3,e5,Rf3,Rd6,Rf5,Rb6+,Kc1,Re6,Rh5,f5,Rxf5,e4,Rf4,e3,fxe3,Rxe3,Rf8+,Ka7,Rh8,Rxg3,Rxh6,Rxa3,Kb2,Rg3,Rd6,a5,Rd5,b6,Rd7+,Ka6,Rd3,Rg6,Kb3,Rg4,Rc3,a4+,Ka3,Ka5,Rf3,b5,Rf5,Kb6,Rf6+,Kc5,Rf5+,Kc4,c3,Rg3,Kb2,Rxc3', 'Rf4+,Kd3,Rf3+,Ke4,Rxc3', 'https://lichess.org/training/vpZ76');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vQ1qY', 'Rapid', 'omarposada71', 1635, 'KillyMe', 1657, 'e4,c5,d3,d6,Nf3,Nf6,Be2,g6,O-O,Bg7,c3,O-O,a3,a5,Nbd2,Nc6,Nc4,b5,Ne3,e6,Bd2,d5,exd5,Nxd5,Nxd5,exd5,c4,bxc4,dxc4,Bxb2,Ra2,Bg7,cxd5,Qxd5,Rc2,Nd4,Nxd4,cxd4', 'Bf3,Qd8,Bxa8', 'https://lichess.org/training/vQ1qY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vq9Gp', 'Blitz', 'Bluedition', 1638, 'Ivan_01rus', 1618, 'e4,c5,Bc4,e6,Nc3,d5,exd5,exd5,Bxd5,Nf6,Bb3,Nc6,d3,Be7,Be3,O-O,Nf3,Re8,O-O,Bg4,h3,Bh5,Re1,a6,Bf4,Nd4,g4,Bg6,Nxd4,Qxd4,Qf3,b5,Be5,Qd7,Re3,Bd6,Rae1,Bxe5,Rxe5,Qd4,Rxe8+,Rxe8,Rxe8+,Nxe8,Qc6,Qd8,Qxa6,c4,dxc4,bxc4,Qxc4,Nd6,Qd4,Qe7,Qe3,Qh4,Qg3,Qf6,a4,h5,a5,hxg4,hxg4,Be4,Nxe4,Nxe4,Qe3,Qg6,a6,Qxg4+,Kf1,Qd1+,Qe1,Qf3,a7', 'Ng3+,Kg1,Qh1#', 'https://lichess.org/training/Vq9Gp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vQ9Vi', 'Blitz', 'Binoop', 1749, 'hristo_yordanov', 1802, 'e4,e5,Nf3,d6,h3,Be7,a3,Nf6,Nc3,O-O,d3,Nbd7,Bg5,c5,Qd2,Re8,Bxf6,Nxf6,O-O-O,a6,Kb1,b5,Nd5,Be6,Nxf6+,Bxf6,Ne1,Rb8,f4,b4,a4,Qa5,b3,Rec8,f5,Bd7,Nf3,Bxa4,bxa4,Qxa4,Kc1,h6,c3,b3,Qb2,Qa2,Nd2,Bg5,h4,Bf4,g3,Be3,Rh2,a5,Re2,Bxd2+,Rexd2,a4,Qxa2,bxa2,Rxa2,Rb3,Rxa4,Rxc3+,Kd2,Rb3,Rda1,Rcb8,R4a2,Kh7,g4,f6,Ke3,Rc3,Rg2,Rbb3,g5,hxg5,hxg5,fxg5,Rxg5,c4,Be2,cxd3,Rh1+,Kg8,Kd2,Rc2+,Kd1,Rxe2,Kc1,Rxe4,f6,Rc4+,Kd2,Rc2+,Ke3,d2+,Ke4,Rc1', 'Rxg7+,Kf8,Rh8#', 'https://lichess.org/training/vQ9Vi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vqaal', 'Rapid', 'Reza7654', 1756, 'flick_flock', 1656, 'e4,Nc6,d4,d5,e5,Bf5,Nf3,e6,Bb5,f6,exf6,Nxf6,Ne5,Qd6,Bf4,Qb4+,Nc3,Nd7,Nxc6,bxc6,Bxc6,Rb8,Bxc7,Rc8,Bxd7+,Kxd7,Be5,Qxb2,Ne2,Bb4+,c3,Bxc3+,Nxc3,Qxc3+,Kf1,Bd3+,Kg1,Be4,Qa4+,Ke7,Qxa7+,Kf8,Qxg7+,Ke8,Qxh8+,Kd7,Qg7+,Kc6,Rf1,Bd3,Rd1,Qc2,Qg4,Bf5,Qf3,Rg8,h3,Be4,Qh5', 'Rxg2+,Kf1,Qxf2#', 'https://lichess.org/training/vqaal');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vQay0', 'Blitz', 'Anomic', 2031, 'RadicBosko77', 2034, 'c4,Nc6,g3,e5,Bg2,f5,Nf3,d6,O-O,Nf6,Nc3,h5,d4,e4,Nh4,Be7,Ng6,Rh7,Nxe7,Nxe7,h4,g6,Bg5,Neg8,Qa4+,Bd7,Qb4,b6,Nd5,Rf7,Nxf6+,Nxf6,c5,d5,cxb6,axb6,Rfc1,c6,e3,Rb8,Qd6,Rb7,Bf1,Qe7,Qf4,Qe6,a4,Nh7,a5,bxa5,Rxa5,Nxg5,Ra8+,Ke7,Qxg5+,Qf6,Qf4,Rg7,Rb1,g5,hxg5,Rxg5,b4,Rg4,Qe5+,Qxe5,dxe5,h4,Kg2,hxg3,fxg3,Ke6,Be2,Rg7,b5,cxb5,Rh8,Kxe5,Rh6,Re7,Rh5,Be8,Rg5,Kf6,Rg8,Ke5,Rh8,d4,exd4+,Kxd4,Rh6,Ke3,Bf1,Re5,Rb3+,Kd2,Rd6+,Kc2,Ra3,Kb2,Ra5,Bh5,Rd2+,Kc3,Rda2,Bf3+,Kf2,Rd5,R5a3+,Kb4,Rb2+,Kc5,Rc3+,Kb6,Rb4,Rd2+,Kg1,Rh7', 'Rxb5+,Ka7,Ra3#', 'https://lichess.org/training/vQay0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vQBLK', 'Classical', 'bobby2345', 1809, 'Ayham70', 1830, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,O-O,c3,d6,h3,h6,d4,exd4,cxd4,Bb6,Bf4,Bd7,Nc3,Re8,Qc2,Ne7,Rad1,Ng6,Bh2,Be6,Bxe6,Rxe6,e5,dxe5,dxe5,Nd7,Qd3,Ngf8,Ne4,Qe8,a4,Rd8,Qc3,c6,Nd6,Qe7,Nxb7,Rb8,Nd6,Ng6,Qxc6,Ndxe5,Nxe5,Nxe5,Nc8,Qf6,Qc2,Rc6,Qe2,Rbxc8,Bxe5,Qf5,Bc3,Re6,Qf3,Qxf3,gxf3,Rce8,Kg2,Rg6+,Kf1,Rxe1+,Rxe1,Kh7,Re7,Kg8,Re8+,Kh7,Rf8,f6,Rf7,Kg8,Rb7,Rg5,a5,Bxa5,Rxa7,Bxc3,bxc3,Rc5,Ra3,Kf7,Ke2,Ke6,Ke3,g5,Kd4,Rd5+,Ke4,Rc5,Ra6+,Kf7,Ra7+,Kg6,Kd4,Rf5,c4,Rxf3,c5,Rxf2,c6,Rc2,Kd5,f5,c7,f4', 'Ra6+,Kf5,Rc6', 'https://lichess.org/training/vQBLK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VqbQ8', 'Rapid', 'crveni', 1845, 'moolla', 1840, 'e4,e6,Nf3,d5,e5,c5,d4,cxd4,Qxd4,Nd7,Bf4,Bc5,Qd1,Ne7,Bb5,a6,Bxd7+,Bxd7,O-O,Bb5,Re1,Nf5,Nc3,Qd7,a3,Rc8,a4,Bc6,Ne2,Bxa4,b3,Bb5,Nc3,Bc6,Na4,Ba7,Be3,Bxa4,Bxa7,Bb5,Bd4,O-O,h3,Qc7,Rc1,h6,g4,Ne7,Kh2,Qd8,g5,Nf5,gxh6,Nxh6,Rg1,Be8,Be3,Nf5,Bf4,Rc3,Ng5,Qb6,Rg2,Bc6,Qh5,Nh6,Be3,d4,Bd2,Bxg2,Bxc3,dxc3,Kxg2,Qc6+,Kh2,Qc5,Qe2,Rd8,Rf1,Rd2,Qf3,Rxc2,Ne4,Qxe5+,Kh1,Nf5,Rd1,Qb8,Nxc3,Rb2,Ne4,Rc2,Qd3,Rc8,Ng5,Qc7,Qd7,Qxd7,Rxd7,Rb8,Rxf7,Nd4,Re7,b5,Nxe6,Nxe6,Rxe6,Ra8,Kg2,Kf7,Rb6,Ra7,Kg3,Ke7,f4,Kd7,Kg4,Kc7,Rg6,Kd8,h4,a5,h5,a4,bxa4,bxa4,h6,gxh6,Rxh6,a3,Rh8+,Kc7,Rh7+,Kb6,Rh1,a2,Ra1,Kb5,f5,Kb4,f6,Kb3,f7,Kb2', 'Rxa2+,Kxa2,f8=Q', 'https://lichess.org/training/VqbQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vQbYj', 'Blitz', 'James_Chess007', 1886, 'wastl', 2016, 'e4,e6,f4,d5,exd5,exd5,Nf3,Nf6,Be2,Bc5,d4,Bb6,Be3,O-O,O-O,Ne4,Nc3,c6,Nxe4,dxe4,Ne5,f6,Nc4,Nd7,Nxb6,Nxb6,c4,Be6,d5,cxd5,Bxb6,Qxb6+,Kh1,dxc4,Rc1,Rac8,b3,cxb3,Rxc8,Rxc8,axb3,Qxb3,Qd6,Qd5,Qe7,Qd7,Qa3,a6,Rd1,Qc7,h3,Qxf4,Rd6,Bf7,Rd7,Rc1+,Bd1,g6,Qe7,Rxd1+,Rxd1,Qe5', 'Rd8+,Kg7,Qf8#', 'https://lichess.org/training/vQbYj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vqc4U', 'Blitz', 'Sinwa_KBPL', 2258, 'FM SpeedMonkey', 2440, 'd4,g6,c4,Bg7,Nf3,Nf6,g3,O-O,Bg2,d6,O-O,Nc6,Nc3,e5,Bg5,exd4,Nxd4,Nxd4,Qxd4,h6,Bxf6,Qxf6,Qd2,c6,Rad1,Be6,Qxd6,Bxc4,Qb4,Ba6,Bf3,Rfe8,Rd6,Qe7,Rfd1,Bf8,Qf4,g5,Qf5,Qxd6,Rxd6,Bxd6,Ne4,Be5,Nf6+,Bxf6,Qxf6,Re6,Qf5,Rae8,e4,Kg7,Qc5,Rd8,h4,gxh4,gxh4,Rg6+,Kh2,Rd3,Be2,Rdd6,Bxa6,bxa6,Qxa7,Rdf6,Qd4,Kh7', 'h5,c5,hxg6+', 'https://lichess.org/training/Vqc4U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VQcfe', 'Blitz', 'BeginnerFIDE943', 2204, 'Dimonkms', 2148, 'f4,d5,Nf3,c5,e3,Nc6,d3,Nf6,Be2,Bg4,O-O,e6,c3,Bd6,h3,Bxf3,Bxf3,O-O,e4,dxe4,dxe4,Be7,e5,Nd5,Qe2,Qc7,Rd1,Rfd8,Na3,a6,Nc4,b5,Na3,c4,Nc2,Qb6+,Kh1,Bc5,Bxd5,exd5,Be3,d4,cxd4,Nxd4,Nxd4,Bxd4,Bxd4,Rxd4,Qf3,Rad8,Re1,Rd2,Re2,Qd4,Rae1,Qxb2,e6,fxe6,Rxe6,Qd4,R6e4,Qd5,Qg4,Rd1,Kh2,Rxe1,Rxe1,c3,Re7,Qd4', 'Qe6+,Kh8,Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/VQcfe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vqd7h', 'Rapid', 'mustafalper', 1777, 'mc_prabu71', 1821, 'e4,e6,d4,b6,g3,Bb7,Bg2,Qe7,Nc3,Nc6,Nf3,O-O-O,Be3,h5,Qd2,h4,Nxh4,Qe8,O-O-O,f6,Nf3,g5,g4,Nh6,h3,Nf7,Nh2,Nd6,f4,Nc4,Qd3,Nxe3,Qxe3,gxf4,Qxf4', 'Bh6,Qxh6,Rxh6', 'https://lichess.org/training/vqd7h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vQdYQ', 'Rapid', 'houseplayer', 1728, 'dheitkam', 1718, 'Nf3,e6,c4,d5,cxd5,exd5,e3,Nf6,Nc3,Nc6,d4,Bg4,Be2,Bb4,Bd2,O-O,a3,Bd6,h3,Bf5,O-O,Ne4,Rc1,h6,Nb5,Nxd2,Nxd2,Be7,Bf3,Be6,b4,a6,Nc3,Na7,Nb3,Qd7,Nc5,Bxc5,bxc5,Nb5,Qb3,Nxc3,Rxc3,Qb5,Qxb5,axb5,Rb1,c6,Ra1,Ra5,Bd1,Rfa8,Rb3,Bf5,Kh2,g5,g4,Bd7,a4,Bc8,Rba3,f5,gxf5,Bxf5,f3,Kg7,Kg3,Kf6,h4,h5,hxg5+,Kxg5,f4+,Kh6,Kh4,Bg6,f5,Bxf5,Bxh5,Rxa4,Rxa4,Rxa4,Rf1,Be4,Rf6+,Kg7,Rf7+,Kg8,Rxb7,Ra3,Rc7,Rxe3,Rxc6,Rc3,Rb6,Rb3,Be8,Rb4,Rxb5,Rxd4,c6', 'Bd3+,Kg5,Bxb5', 'https://lichess.org/training/vQdYQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vQeYp', 'Rapid', 'Whitewing', 1844, 'gekterho', 1922, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Qxd4,Bd7,Bxc6,Bxc6,O-O,Nf6,Re1,Be7,c4,O-O,Nc3,h6,b3,Nh7,Bb2,Bf6,Qd3,Re8,Nd2,Ng5,f3,a6,Rad1,b5,cxb5,axb5,Bc1,Qb8,Nd5,Bxd5,Qxd5,Rxa2,b4,Qb6+,Kh1,Ra4,Nf1,Rxb4,Be3,Qb8,Ng3,Nh7,Nf5,Rc4,Bxh6,Re5,Qd2,gxh6,Qxh6,Qf8,Qf4,Qa8,Nh6+,Kf8,h4,Qd8,Qg4,Bxh4', 'Qg8+,Ke7,Qxf7#', 'https://lichess.org/training/vQeYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VQgyV', 'Classical', 'Herk', 1938, 'RomanticChess7083', 1706, 'c4,g6,e4,Bg7,d4,d6,Nc3,Nf6,Nf3,O-O,Be2,Re8,O-O,Bg4,h3,Bxf3,Bxf3,Nbd7,Be3,e5,d5,Nb6,Be2,a6,Qd2,Qd7,Bg5,Na4,Bxf6,Nxc3,Bg4,Qa4,Bxg7,Nxe4,Qe2,Kxg7,Qxe4,f5,Bxf5,gxf5,Qd3,f4,b3,Qd7,Rfe1,Kh8,Qc3,Rg8,Re4,Rg6,Rxf4,Rag8,g4,h5,Kh2,Qg7,Re4,hxg4,hxg4,Rxg4,Qh3+,Qh7,Rxg4,Rxg4,Qxh7+,Kxh7,Rg1,Rxg1,Kxg1,Kg6,Kg2,Kf5,Kf3,c6,Ke3,c5,f3,b5', 'cxb5,axb5,a4', 'https://lichess.org/training/VQgyV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vQicM', 'Rapid', 'thewarriorsaleh90', 1807, 'Account01', 1829, 'e4,e5,Bc4,Nf6,Nf3,Bc5,Nxe5,O-O,Bxf7+,Rxf7,Nxf7,Kxf7,d3,Kg8,h3,Nc6,Bg5,d5,Nc3,dxe4,Nxe4,Qd4,O-O,Nxe4,dxe4,Qxe4,Re1,Qg6', 'Qd5+,Kh8,Qxc5', 'https://lichess.org/training/vQicM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VQjbl', 'Rapid', 'chhe', 1621, 'Airon8', 1859, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qc7,Bd3,Nf6,Qe2,Bg4,f3,Bh5,g4,Bg6,Bxg6,hxg6,h4,Nbd7,O-O-O,O-O-O,Be3,e6,Ne4,Nxe4,fxe4,Nf6,Bg5,Be7,e5,Nd5,Bxe7,Qxe7,Nf3,Rd7,Qd2,Rhd8,g5,Nc7,Qf4,Kb8,a3,c5,Rh2,cxd4,Rxd4,Rxd4,Nxd4,Nd5,Qf3,Rc8,Nb5,Qc5,Nd6', 'Qg1+,Qd1,Qxh2', 'https://lichess.org/training/VQjbl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VQjqU', 'Rapid', 'Snias', 1613, 'die-boettel', 1600, 'd4,d5,c4,e5,cxd5,Qxd5,Nc3,Qxd4,Qxd4,exd4,Nb5,Bb4+,Bd2,Bxd2+,Kxd2,Na6,Nxd4,Nf6,e3,b6,Bb5+,Nd7,Nc6,Nac5,Rd1,Ne4+,Ke2,a6,Bd3,Nec5,Bf5,Bb7,Bxd7+,Nxd7,Rc1,O-O,Ne7+,Kh8,Rxc7,Bxg2,Rxd7,Bxh1,f3,Rad8,Rxd8,Rxd8,Kf2,Rd2+,Kg3,Rxb2,h4,Rxa2,e4,Bg2,Nd5,Bf1,Nh3,Rg2+,Kf4,Rh2,Ng5,Rxh4+,Kg3,Rh6,Nxf7+,Kg8,Nxh6+,gxh6,Nxb6,Kf7,Kf4,Bd3,e5,Ke6,Na8,a5,Nc7+,Kd7,Nd5,a4,Nb6+,Ke6,Nxa4,Be2,Nc5+,Kd5,e6', 'Kxc5,e7,Bb5', 'https://lichess.org/training/VQjqU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vqJsK', 'Rapid', 'souravGH', 1770, 'Airobs', 1733, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Nc3,c6,Qb3,Qe7,Nf3,Bxc3+,Qxc3,Qxe4+,Be2,Nf6,O-O,O-O,Bd3,Qg4,Ne5,Qg5,Bc1,Qh4,Nf3,Nd5,Qe5,Qe7,Qg3,g6,Bh6,Re8,Rfe1,Qd8,Ng5,d6,Ne4,Qe7,Bg5,Qe6,Re2,Qe5', 'Nf6+,Nxf6,Rxe5,dxe5,Bxf6', 'https://lichess.org/training/vqJsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VQkUa', 'Rapid', 'yankar', 1789, 'mihalu4', 1781, 'd4,e6,c4,d6,Nc3,c6,e4,h6,f4,Be7,Nf3,g5,fxg5,hxg5,Bd3,Nd7,Be3,Nh6,Qc2,Ng4,Bd2,e5,d5,c5,h3,Nh6,O-O-O,b6,Nb5,Ba6,Rhf1,Bxb5,cxb5,f6,h4,Nf8,hxg5,fxg5,Rh1,Bf6,Rdf1,Qe7,Rh5,Nf7,Rfh1,Rxh5,Rxh5,O-O-O,Nh2,Ng6,Ng4,Nf4,Bxf4,gxf4,Nxf6,Qxf6,Qd1,Qg6,Qf3,Rh8,Qh3+,Kc7,Rxh8,Nxh8,Qxh8,Qxg2,Qh7+,Kb8,Qf5,Qg1+,Kc2,Qf2+,Kc1,Qe3+,Kc2,Qf2+,Kb3,c4+,Ka3,Qc5+,Ka4,cxd3,Qf8+,Qc8,Qxd6+,Qc7,Qf8+,Kb7,Qb4,Qc2+,Ka3,d2,Qe7+,Qc7,d6,Qxe7,dxe7,d1=Q,e8=Q,Qd6+,b4,Qd3+,Ka4,Qc2+,Ka3,Qd3+,Ka4,Qc2+,Ka3,Qc7,Qh5,a6,bxa6+,Kxa6,Qe2+,b5,Qd3,Qb6,Kb2', 'Qd4+,Qxd4,exd4', 'https://lichess.org/training/VQkUa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vqlCo', 'Rapid', 'efeequis', 1906, 'happyfun', 1833, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bd7,Bc4,f6,O-O,Nc6,d4,e5,dxe5,fxe5,Nxe5,Nxe5,Re1,O-O-O,Bxg8,Rxg8,Nd5,Nc6,Bg5,Bb4,c3,Be7,Bxe7,Rde8,Bb4', 'Rxe1+,Qxe1,Qxd5', 'https://lichess.org/training/vqlCo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VQLpD', 'Rapid', 'Avaruus', 1872, 'Galapagator', 1873, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Nc6,cxd5,exd5,e3,Bg4,Be2,Bxf3,Bxf3,Bb4,O-O,Bxc3,bxc3,Ne4,Qc2,f5,Ba3,g5,c4,g4,Be2,h5,f3,gxf3,Bxf3,Rg8,Bxh5+,Kd7,cxd5,Qg5,dxc6+,bxc6,Bf3,Qxe3+,Kh1', 'Ng3+,hxg3,Rh8+,Bh5,Rxh5#', 'https://lichess.org/training/VQLpD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VQMB1', 'Classical', 'Clabbe', 1990, 'tonytwins70', 1916, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Qb6,Ne2,cxd4,cxd4,Nc6,Nf3,Bb4+,Kf1,O-O,a3,Be7,Nc3,Qd8,Bxh7+,Kxh7,Qd3+,Kg8,h4,f6,Ng5,fxg5,hxg5,Bxg5', 'Qh7+,Kf7,Qh5+', 'https://lichess.org/training/VQMB1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vqmHV', 'Classical', 'fazlur-maverick', 1916, 'Thomaster', 2018, 'e4,e6,d4,d5,Nc3,Bb4,exd5,exd5,Nf3,Ne7,Bg5,Bf5,Bb5+,c6,Bd3,f6,Bf4,O-O,O-O,Bxd3,Qxd3,Ng6,Bg3,Nd7,a3,Ba5,b4,Bb6,Ne2,Re8,Nf4,Ndf8,c4,dxc4,Qxc4+,Kh8,Rfe1,Qd7,Nxg6+,Nxg6,h3,Ne7,Qf7,Rad8,Re2,Bxd4,Nxd4,Qxd4,Rae1,Qd5,Rxe7', 'Qxf7,Rxf7,Rxe1+', 'https://lichess.org/training/vqmHV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VqPAX', 'Classical', 'gukumuku', 1794, 'tenkaymistakes', 1751, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,Nbd2,d5,Be2,Bf5,h4,c5,c3,Nc6,Nh2,Qb6,g4,Be6,g5,Ne4,Nxe4,dxe4,Qc2,Bf5,Bg4,e6,h5,Rfd8,h6,Bf8,Bxf5,exf5,Nf1,Be7,Nd2,Na5,O-O,f6,gxf6,Bxf6,Nb3,Nxb3,axb3,g5,Be5,Bxe5,dxe5,Qxh6,Kg2,Qe6,Rh1,Qxe5,b4,cxb4,Qb3+,Qd5,Qxb4,Qc6,Qe7,Qd7,Qxg5+,Qg7,Qxg7+,Kxg7,Rh5,Kg6,Rah1,Rd7', 'Rh6+,Kf7,Rxh7+,Ke6,R1h6+', 'https://lichess.org/training/VqPAX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vQrQD', 'Rapid', 'phonedrinkbottle', 1927, 'Captain_Impossible', 1929, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,Be2,h5,O-O,Be7,Na4,Nbd7,f3,h4,h3,Nh5,Bd3,Nf4,Bxf4,exf4,Nd4,Qc7,Nxe6,fxe6,Nc3,Qb6+,Kh1,Nf6,Rb1,Nh5,Re1,Qf2,e5,Ng3+,Kh2,Rh6,Ne4,Nxe4,Bxe4,d5,Bxd5,exd5,Qxd5,Rd8,Qg8+,Bf8', 'e6,Rd2,Qf7+', 'https://lichess.org/training/vQrQD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VQsA4', 'Rapid', 'usyu001', 1871, 'blopita', 1945, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bb5,d6,O-O,Bd7,Bxc6,Bxc6,d4,exd4,Nxd4,Bxd4,Qxd4,Nf6,e5,dxe5,Qxe5+,Qe7,Qxe7+,Kxe7,Bg5,Rhe8,Rad1,Ke6,Bxf6,Kxf6,Nd5+,Bxd5,Rxd5,Re2,Rc1,Rae8,g3,Re1+,Rxe1,Rxe1+,Kg2,Re2,Rc5,c6,Kf3,Rd2,Ke3,Rd7,c3,Ke6,Rc4,f5,h4,g6,Rd4,Rd5,b4,Re5+,Kd3,Ke7,f4,Re1,Kc4,Re3,Rd3', 'b5+,Kb3,Rxd3', 'https://lichess.org/training/VQsA4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vqsJt', 'Classical', 'gasparripdl', 1904, 'emirhan32', 1890, 'e4,e5,d4,exd4,Bc4,d6,Nf3,Bg4,Bxf7+,Kxf7,Qxd4,Qf6,Ng5+,Ke8,Qa4+,Bd7,Qb3,b6,Nc3,Nc6', 'Nd5,Qg6,Nxc7+', 'https://lichess.org/training/vqsJt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vqsUz', 'Blitz', 'HosseinDragon', 2219, 'FM kingnb', 2493, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d6,Bg5,O-O,e3,c5,Be2,cxd4,exd4,Be6,O-O,Nbd7,Rc1,Rc8,h3,Bxc4,Bxc4,Rxc4,Qb3,Rc8,Qxb7,Qb6,Qxb6,Nxb6,Nb5,Rxc1,Rxc1,a6,Rc6,Nfd5,Nc7,Rc8', 'Nxd5,Rxc6,Nxe7+,Kf8,Nxc6', 'https://lichess.org/training/vqsUz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vqtKc', 'Rapid', 'danger-sum', 1877, 'Operator2010', 1836, 'd4,e6,e4,c5,Nf3,Qc7,Be3,cxd4,Bxd4,Nc6,Be3,Bb4+,c3,Bd6,Nbd2,Nf6,Nc4,Be7,g3,Nxe4,Bf4,d6,Bg2,e5,Nfxe5,dxe5,Nxe5,Nxe5,Bxe4,Bd6,O-O,Nc4,Bxd6,Nxd6,Bd5,O-O,Re1,Bf5,Qf3,Bg6,Rad1,Rad8,Bb3,b6,h4,h5,Rd4,Rfe8,Red1,Be4,Qxh5,Bb7,Rxd6,Rxd6,Rxd6', 'Re1+,Kh2,Rh1#', 'https://lichess.org/training/vqtKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VqTMl', 'Classical', 'Varun_potter', 1944, 'kid97', 1808, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,O-O,a6,Nxc6,Bxc6,Bxc6+,bxc6,Nc3,Nf6,Be3,g6,Qe2,Bg7,Rad1,O-O,e5,Nd5,Nxd5,cxd5,Rxd5,Bxe5,Rfd1,e6', 'Rxe5', 'https://lichess.org/training/VqTMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VqUC1', 'Rapid', 'KiyoBrandreth', 1615, 'atcn', 1629, 'e4,d5,Nf3,Bg4,h3,Bh5,g4,Bg6,e5,e6,d4,c6,Bg5,Qb6,b3,Bb4+,c3,Be7,Bd3,Bxd3,Qxd3,Nd7,Qe3,c5,Qf4,cxd4,cxd4,Qb4+,Nbd2,h6,Bxe7,Nxe7,O-O,Ng6,Qg3,O-O,h4,f6,h5,Ne7,Rad1,fxe5,Nxe5,Nxe5,Qxe5,Nc6,Qxe6+,Kh8,Qxd5,Rad8,Qc5,Qxd4,Qxd4,Rxd4,Nc4,Rxg4+,Kh2,Rf5,Rd3,Rxh5+,Rh3,Rhg5,Ne3,Re4,Rd1,Ne5,Rg1,Rxg1,Kxg1,Ng4,Rh4,g5', 'Rxg4,Rxg4+,Nxg4', 'https://lichess.org/training/VqUC1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VqUth', 'Classical', 'arshiamir', 1817, 'EmptySet2', 1915, 'd4,Nf6,Nf3,d5,Bf4,c5,e3,Nc6,c3,Bg4,Nbd2,e6,Bd3,Rc8,O-O,Nh5,Bg3,Nxg3,hxg3,Be7,Bb1,h5,Qc2,h4,Ne5,Nxe5,dxe5,hxg3', 'Qa4+,Qd7,Qxg4', 'https://lichess.org/training/VqUth');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VQVpS', 'Rapid', 'Hotelcalin', 1684, 'Wilshire', 1632, 'c4,e6,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,c6,Nf3,Be7,O-O,O-O,a3,a6,e4,Nxc3,bxc3,Nd7,d4,Nf6,e5,Nd5,Qd3,c5,c4,Nc7,Bb2,Rb8,Rab1,b5,cxb5,axb5,Qd1,c4,Bc3,Bxa3,Bb4,Bxb4,Rxb4,Nd5,Rb2,Bd7,Ne1,Qc7,Nc2,Rfc8,Nb4,Nxb4,Rxb4,Qa5,Qb1,c3,Rc1,h6,Rc2,Qb6,Qb3,Qc7,Bf1,Qa5,Rxc3,Rxc3,Qxc3,Rc8,Qb2,Rb8,Rb3,Ra8,Bxb5,Qe1+,Bf1', 'Ra1,Qxa1,Qxa1,Rb8+,Kh7', 'https://lichess.org/training/VQVpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VQvuU', 'Rapid', 'Robbm', 1892, 'Macaronesian', 1777, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,c5,c3,Be7,Bd3,O-O,h3,Nc6,Ngf3,a6,a4,c4,Bc2,Bd7,O-O,Qc7,e4,Qxf4,e5,Ne4,g3,Qh6,Kg2,f5,exf6,Rxf6,Nxe4,Rf7,Nh2,e5,Nc5,Qxh3+,Kg1,exd4,cxd4,Bxc5,dxc5,Raf8,Qxd5,Be6,Qg2,Qh6,Rad1,Ne5,Rd6,Nd3,Bxd3,cxd3,Rxd3,Bc4,Ng4,Qg5,Rd4,Bxf1,Qxf1,Qxc5,Rd2,Qb4,Qe2,Qxa4,Ne5,Re7,f4,Qa1+,Kg2,Qa4,Qd3,Qa5,Qd6,Rfe8,b4,Qb5,Kh3,Qf1+,Kh2,Re6', 'Qxe6+,Rxe6,Rd8+,Re8,Rxe8#', 'https://lichess.org/training/VQvuU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vqVX6', 'Blitz', 'Nalba92', 1678, 'strawberrymoon', 1709, 'c4,Nf6,d4,d5,cxd5,Nxd5,e4,Nf6,e5,Nd5,Nc3,e6,Nf3,Bb4,Bd2,O-O,Nxd5,Bxd2+,Qxd2,exd5,Bd3,Bg4,Qc2,h6,Nd2,Nc6,Qc3,Qg5,h3,Bf5,Bxf5,Qxf5,O-O,Rfe8,Nf3,Re6,b4,Rc8,b5,Ne7,a4,c6,bxc6,Rcxc6,Qe3,Ng6,g4,Qf4,Qxf4,Nxf4,Kh2,Rc3,Kg3,Rb6,Kxf4,Rbb3,Ng1', 'g5+,Kf5,Rf3+,Nxf3,Rxf3#', 'https://lichess.org/training/vqVX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VqWce', 'Classical', 'sandman20isbeast', 1680, 'jimsheri2016', 1678, 'd4,e6,Nc3,Nf6,Bf4,Be7,e4,Bb4,Ne2,Nxe4,a3,Nxc3,Nxc3,Bxc3+,bxc3,O-O,Bd3,Nc6,Qh5,g6,Qh6,Qf6,h4,Qg7,Qg5,f6,Qg3,e5,dxe5,fxe5,Be3,e4,Bc4+,Kh8,O-O,Qxc3,Bb3,d6,Rad1,Bf5,h5,Rf6,Rd5,gxh5,Qg5,Rg8,Qxh5,Bg6,Qh4,Bf5,Rxf5,Rxg2+,Kxg2,Rxf5,Qxe4', 'Qg7+,Kh3,Rh5+', 'https://lichess.org/training/VqWce');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vqwyh', 'Classical', 'chinobi', 1748, 'vrp_pradeep', 1668, 'e4,e5,Bc4,Nf6,Nf3,Nc6,d3,g6,Ng5,d5,exd5,Nxd5,Qe2,Bg7,Qe4,Be6,Nc3,Nxc3,bxc3,Bxc4,Qxc4,O-O,O-O,h6,Nf3,Re8,Re1,Re6,Bb2,Qd7,h3,Rae8,Re4,Qe7,Qb3,Nd8,Ba3,Qf6,Rae1,Qf5,Kf1,Qh5,Bc1,g5,Nh2,Rg6,d4,g4,Nxg4,Kh7,Nf6+,Bxf6,dxe5,Rxe5,Bf4,Rxe4,Rxe4,Qd1+,Re1,Qh5,Bxc7,Qg5,g3,Ne6,h4,Qg4,Kg2,Bxh4,Rh1,Nf4+,Bxf4,Qxf4,Rxh4,Qxh4,Qxf7+,Rg7,Qf5+,Kh8', 'Qf8+,Kh7,Qxg7+,Kxg7,gxh4', 'https://lichess.org/training/vqwyh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VQxEC', 'Rapid', 'Emanuele1997', 1608, 'SomdS2791', 1607, 'e4,e5,Nf3,Nc6,d3,Bc5,Qe2,Nf6,Be3,Bb6,a3,O-O,g3,d5,exd5,Nxd5,Bxb6,axb6,Bg2,e4,dxe4,Bg4,O-O,Nf6,Nc3,Nd4,Qd3', 'Nxf3+,Bxf3,Qxd3,cxd3,Bxf3', 'https://lichess.org/training/VQxEC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vQxZA', 'Rapid', 'MA1002', 1957, 'bobbyjohnson180', 1966, 'e4,c5,Nf3,Nc6,c3,g6,Be2,Bg7,O-O,d5,Qc2,Bg4,d3,Bxf3,Bxf3,dxe4,dxe4,Nf6,Be3,Nd7,Na3,O-O,Rad1,Qc7,Nb5,Qb6,a4,Nde5,Be2,a6,Na3,Rfd8,b4,Nd7,Rb1,Rab8,bxc5,Qc7,Nc4,Nce5,Nb6,Nxc5,Bd4,Ne6,Nd5', 'Nxd4,Nxc7,Nxc2', 'https://lichess.org/training/vQxZA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vQYy0', 'Rapid', 'Alnoor15', 1604, 'craz_y', 1601, 'e4,d5,Nf3,dxe4,Ng5,Qd5,d3,Nc6,Nc3,Qa5,dxe4,h6,Nf3,Bg4,Be2,Nf6,Qd3,Rd8,Qb5,Qxb5,Nxb5,Nxe4,Nxc7+,Kd7,Nd5,Kc8,Ne3,Nd4', 'Nxd4,Bxe2,Nxe2', 'https://lichess.org/training/vQYy0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VqZlV', 'Rapid', 'Tatarana', 1651, 'YoungBeast', 1659, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bg5,Qb4+,Bd2,Qxb2,Nc3,Bb4,Rb1,Qxc3,Bxc3,Bxc3+,Nd2,Bxe5,e3,Nf6,Bd3,d5,O-O,O-O,c4,a6,Qc2,dxc4,Nxc4,Bd6,Nxd6,cxd6,Rfd1,Ne5,Bf5,Bxf5,Qxf5,Rad8,Rxb7,Nc4,Rd4,Rc8,h3,Na5,Rb2,Rc5,Qd3,d5,Qxa6,Nc4,Rb7,Ra5,Qc6,Rxa2,Qc7,Nd2,Qg3', 'Ra1+,Kh2,Nf1+', 'https://lichess.org/training/VqZlV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vr1GO', 'Rapid', 'Alfilparanoico', 2407, 'NM oberschlumpf', 2451, 'd4,Nf6,Nc3,d5,Bf4,c5,e3,cxd4,exd4,a6,Nf3,Nc6,Ne5,Qb6,Na4,Qa5+,c3,e6,Nxc6,bxc6,Bd3,Be7,b4,Qd8,Nc5,O-O,O-O,a5,a4,Re8,Re1,Nd7,Qd2,Nxc5,bxc5,Ba6,Bxa6,Rxa6,Reb1,Qd7,Qe2,Ra7,Rb3,f6,Qg4,e5,Qxd7,Rxd7,Be3,Ra7,Rab1,Kf8,Rb6,Rc8,f3,Ke8,Kf2,Bd8,R6b3,Kd7,Ke2,Bc7,Kd3,Raa8,Rb7,Rcb8,g4,Rxb7,Rxb7,Kc8,Rb1,Rb8,Rxb8+,Bxb8,h4,Kd7,c4,Ke6,h5,g6,hxg6,hxg6,Bd2,Bc7,Bc3,Bd8,Bb2,Bc7,Bc1,Bd8,Bd2,Bc7,Be1,Bd8,Bg3,Bc7,Be1,exd4,Kxd4,dxc4,Kxc4,f5,Bd2,fxg4,fxg4,Ke5,Bh6,Ke4,Bf8,Kf3,Bd6,Bd8,g5,Kg4,Kd4,Kxg5', 'Ke5,Bf6+,Ke6', 'https://lichess.org/training/vr1GO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vr5BX', 'Rapid', 'r_usiskin', 2102, 'pritsapidoulas', 2111, 'e4,c5,Nf3,a6,c3,d5,exd5,Qxd5,d4,Nf6,Be2,cxd4,O-O,dxc3,Nxc3,Qxd1,Rxd1,Nc6,Bf4,Bg4,h3,Bh5,g4,Bg6,g5,Nd7,Rac1,e6,Nd4,Nxd4,Rxd4,e5,Nd5,Bd6,Rdc4,exf4', 'Rc8+,Rxc8,Rxc8#', 'https://lichess.org/training/Vr5BX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vr5mJ', 'Blitz', 'bear641', 1874, 'Maldino', 1852, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,Nc3,b6,Be3,Bb7,O-O-O,Rc8,Kb1,Nf6,f3,Bc5,Qd2,Bxe3,Qxe3,O-O,g4,d5,g5,Ne8,exd5,exd5,h4,Nc7,Bd3,Re8,Qf4,Ne6,Qg4,a6,f4,d4,Ne4,Nc5,Nf6+,gxf6', 'gxf6+,Kf8,Qg7#', 'https://lichess.org/training/vr5mJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vr62Q', 'Rapid', 'xZaphzzz', 1827, 'poor-chessist', 1815, 'e4,e5,Nc3,Bc5,f4,exf4,Nf3,g5,Bc4,d6,d4,Bb6,O-O,g4,Ne1,f3,Nxf3,gxf3,Rxf3,Bg4,Bxf7+,Kd7,Be3,Bxf3,Qxf3,Kc8,Rf1,Ne7,Kh1,h6,Qh3+,Nd7,Be6,Kb8,Bxd7,Rf8,Rxf8,Qxf8,g3', 'Qf3+,Qg2,Qxe3', 'https://lichess.org/training/vr62Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VR8KI', 'Bullet', 'omarhaytham28', 1671, 'markdrury', 1653, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,g6,Nc3,Bg7,Nf3,O-O,Be3,Bg4,h3,Bxf3,Qxf3,Nc6,g4,Qa5,O-O-O,Rac8,h4,Ne5,Qg2,Nxd3+,Rxd3,h5,gxh5,Nxh5,Bd2,Bxc3,Bxc3,Qxa2,Rg1,Qe6,Qg5,Kh7,Bd2,Rh8,Bc3,Rhe8,Rd5,Qxe4', 'Qxh5+,gxh5,Rxh5#', 'https://lichess.org/training/VR8KI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vr8Pq', 'Rapid', 'aahmt_Oon', 1878, 'Retorischhuis', 1711, 'e4,d6,f4,g6,Bc4,Bg7,d3,Nf6,Nf3,O-O,O-O,Nbd7,Nc3,e5,Ng5,c6,Nxf7,Rxf7,Bxf7+,Kxf7,f5,Nc5,Qf3,Ke7,Bg5,h6,Bxf6+,Bxf6,fxg6,Qh8,Rf2,Bd7,Raf1,Rf8,b4,Ne6,b5,Bh4,Qf7+,Rxf7,Rxf7+,Kd8,g7,Qg8,g3,Bg5,Na4,cxb5', 'Rf8+,Qxf8,Rxf8+,Ke7,g8=Q', 'https://lichess.org/training/Vr8Pq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vRaIG', 'Classical', 'hanabicat', 1759, 'matsumi', 1762, 'd4,d5,c4,dxc4,Nc3,e5,d5,c6,e4,cxd5,exd5,Nf6,Bxc4,Bb4,Qa4+,Nc6,dxc6,Bxc3+,bxc3,O-O,Bg5,a6,Rd1,Qe7,cxb7,Bxb7,Rd7', 'Qxd7,Qxd7,Nxd7', 'https://lichess.org/training/vRaIG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VRAQQ', 'Rapid', 'marmat2', 1716, 'ghinekii', 1741, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,Nc3,a6,Ba4,Nf6,O-O,g6,d3,Bg7,Bb3,Na5,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,c4,c6,Ne3,b5,Bc2,Nb7,d4,exd4,Nxd4,c5,Ndf5,Bxf5,exf5,Bxb2,fxg6,Bxa1,gxf7+,Kd7,Bf5+,Kc7,Nd5+,Kb8,Qxa1,Rf8,Qg7,Ka7,Re1,Qg5,Qxg5,hxg5,Bg6,bxc4,Ne7,c3,a4,c2,Rc1,Nd8,Be4,Rb8,Rxc2,Rxf7,Nc6+,Nxc6,Bxc6,Rb1+,Kh2,Rxf2,Rxf2,Rb6,Rf7+,Kb8,Bd5,Rb4,Kg3,Rxa4,Rb7+,Kc8,Ra7,c4,Bb7+,Kd8,Bc6,Ra3+,Kg4,c3,Be4,Ra4,Kf5', 'Rxe4,Kxe4,c2', 'https://lichess.org/training/VRAQQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vrB4I', 'Rapid', 'ArtemDm', 1804, 'MegaSS', 1917, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nc6,Nf3,Bg4,Bb5,e6,O-O,a6,Bxc6+,bxc6,h3,Bxf3,Qxf3,c5,dxc5,Bxc5,Re1,Ne7,Bg5,O-O,Qg3,Re8,Bf6,g6,Be5,Nf5,Qd3,Qg5,Bh2,Qh4,Rf1,a5,Qb5,Ba7,Kh1,Reb8,Qe2,Rxb2,Nb5,Bd4,Rab1,Rxb1,Rxb1,Rb8,Na3,Rxb1+,Nxb1,Qxf2,Qxf2,Bxf2,Bc7,a4,Nc3,a3,Nb5,Bc5,g4,Ne3,c3,Nd1,Bf4,f6,Bc1,e5,Nxa3,Bxa3,Bxa3,Nxc3,Kg2,Nxa2,Kf2,Kf7,Ke2,Ke6,Kd3,e4+,Ke3,Nc3,Bc1,Nb5,Kd2,f5,Ke1,f4,Bxf4,d4,Kd2,Kd5,Ke2,Nc3+,Kd2,Nb5,Ke2,d3+,Kd2,Nd4,Be3,Nf3+,Kd1,g5,Kc1,h6,Ba7,Ng1,Bxg1,Kc4,Be3,Kc3,Bc5', 'd2+,Kd1,Kd3,Bg1,e3,Bxe3,Kxe3', 'https://lichess.org/training/vrB4I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vRBpW', 'Blitz', 'ATAKA0619', 1825, 'Alnair', 1870, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bd3,Nc6,Nf3,Bd6,c3,O-O,Bg5,h6,h4,e5,d5,Nb8,Nbd2,Nbd7,Ne4,hxg5,hxg5,Nxe4,Bxe4,f5,g6,fxe4,Nxe5,Qg5,Rh5,Qxg2', 'Rh8+,Kxh8,Qh5+,Kg8,Qh7#', 'https://lichess.org/training/vRBpW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VRcLK', 'Blitz', 'makbier', 1521, 'jpcoffelt', 1506, 'd4,d5,Nf3,Nc6,g3,Bf5,Bg2,e6,O-O,Nf6,Nh4,Bxc2,Qxc2,Nxd4,Qd3,c5,Be3,Qb6,Bxd4,cxd4,b3,Bc5,Nd2,e5,Nf5,e4,Qc2,O-O,a3,e3,Nf3,exf2+,Kh1,Ne4,b4,Bd6,Nxd6,Qxd6,Nxd4', 'Nxg3+,hxg3,Qh6+,Bh3,Qxh3#', 'https://lichess.org/training/VRcLK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VRCVC', 'Rapid', 'loest', 1640, 'tms363', 1789, 'd4,d5,Nf3,e6,e3,Be7,Bd3,Nf6,c4,c5,Nc3,cxd4,Nxd4,e5,Nf5,Bxf5,Bxf5,d4,exd4,exd4,Ne4', 'Qa5+,Bd2,Qxf5', 'https://lichess.org/training/VRCVC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VrCyP', 'Blitz', 'M_Shahbazrizvi', 1990, 'TwoVulpesFulvus', 1849, 'd4,Nf6,f4,e6,e3,Be7,Nf3,O-O,Bd3,Na6,c3,d5,O-O,b6,Nbd2,Bb7,Ne5,c5,Qf3,Nb8,Qh3,h6,g4,Nbd7,Ndf3,Ne4,g5,Nxe5,gxh6,Nxf3+,Qxf3,gxh6,Qg4+,Kh7,Kh1,Rg8,Qh5,f5,Qf7+,Kh8,Qxe6,Bh4', 'Qxh6#', 'https://lichess.org/training/VrCyP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VrD6v', 'Rapid', 'knightofchess90', 1799, 'ferrucciolari', 1756, 'e4,c5,Nf3,e6,c3,Nc6,d4,cxd4,cxd4,d5,exd5,exd5,Nc3,Nf6,Bb5,a6,Ba4,b5,Bb3,Be6,Bg5,Na5,a4,Nxb3,Qxb3,b4,Ne2,a5,O-O,Be7,Nf4,O-O,Nxe6,fxe6,Ne5,Rc8,Rac1,Qd6,f4,Ne4,Bxe7,Qxe7,Rxc8,Rxc8,Qa2,Rc2,f5,Qh4,fxe6,Rf2,Qxd5', 'Rxf1+,Kxf1,Qf2#', 'https://lichess.org/training/VrD6v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VRdbY', 'Rapid', 'lfegoeson', 1754, 'Fiou-Fiou', 1772, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,h3,d6,Bf4,Nbd7,e3,Re8,Be2,e5,Bh2,exd4,Nxd4,a6,a4,Nc5,Bf3,Nfe4,b4', 'Nxc3', 'https://lichess.org/training/VRdbY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VRdEa', 'Rapid', 'juricnina', 1791, 'Jaume19', 1815, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,Bb5,Bg4,O-O,Be7,Bxc6+,bxc6,Re1,Nf6,h3,Bh5,Bg5,O-O,Qd3,h6,Bxf6,Bxf6,Nbd2,Qd6,Ne5,Rfe8,Ndf3,Bxe5,Nxe5,f6,g4,fxe5,gxh5,e4,Qg3,Qe7,Re3,c5,c3,cxd4,cxd4,c5,dxc5,d4,Ree1,Qxc5,Rac1,Qd5,Rc7,Qe5,Rxe4', 'Qxg3+,fxg3,Rxe4', 'https://lichess.org/training/VRdEa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VretH', 'Rapid', 'Grike555', 2039, 'Davidaa_WoW', 2018, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,Re1,c6,h3,Be6,c3,Nbd7,Qc2,h6,Bf5,Bxf5,Qxf5,Qc7,Be3,Rfe8,Nbd2,Ne4,Nxe4,Rxe4,Nd2,Re6,Qg4,Rae8,Kf1,Kh8,a4,Nf6,Qh4,Ne4,Nxe4,Rxe4,Qh5,R4e6,Bd2,Rxe1+,Rxe1,Rxe1+,Kxe1,Bf4,Qf5,Qe7+,Kd1,Bxd2,Kxd2,g6,Qf4,Kg7,Qe5+,Qxe5,dxe5,g5,g3,Kg6,g4,Kg7,Ke3,Kf8,Kd4,Ke7,b4,Ke6,a5,b6,axb6', 'axb6,f3,c5+,bxc5,bxc5+,Kxc5,Kxe5', 'https://lichess.org/training/VretH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vrFpW', 'Blitz', 'Trevor_Philips', 1649, 'MrMonopoli', 1564, 'e4,Nf6,e5,Nd5,c4,Nb6,Nf3,e6,d4,Nc6,Be2,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O,d5,c5,Nd7,Bb5,Ndb8,b4,a6,Bxc6,Nxc6,a3,f5,Qc2,a5,Rfe1,axb4,axb4,Rxa1,Rxa1,Nxb4,Qa4,Nc6,Nb3,b6,cxb6,cxb6,Qxc6,Bd7,Qb7,Bb5,Rb1,Bd3,Rb2,Be4,Nfd2,Qg5,f3', 'Qe3+,Kh1,Qe1+,Nf1,Qxf1#', 'https://lichess.org/training/vrFpW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vrGRm', 'Rapid', 'tsumego', 1635, 'naddiir', 1639, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nxc3,Be6,Bxe6,fxe6,Nf3,e5,Bg5,Nf6,Nd5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Qd5,Nc6,Rc1,Qf7,Qb5,O-O,Qxb7,Na5,Qb5,Qxa2,O-O,Rab8,Qa6,Rb6,Qxa7,Rb7,Qa6,Rb6,Qd3,Qxb2,Rxc7,Rc6,Rd7,Rf6,Qd5+,Kf8,Ng5', 'Qxf2+,Rxf2,Rc1+,Qd1,Rxd1+,Rf1,Rdxf1#', 'https://lichess.org/training/vrGRm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vRHDq', 'Rapid', 'binenbojm', 1819, 'osama_19781978', 1794, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bc4,e6,Nc3,Be7,O-O,Nf6,Bg5,a6,f4,O-O,Nxc6,bxc6,e5,Qb6+,Kh1,dxe5,fxe5,Nd5,Nxd5,cxd5,Bxe7,Re8,Bd6,dxc4,Qf3,Qb7,Qf4,Qd7,Rf3,Bb7,Rh3,Qc6,Qg4,Rad8,Rg3,g6,Qg5,Rxd6,exd6,Qxd6,Qh6,Rd8,Rg1,Qd5,Rh3', 'Qxg2+,Rxg2,Rd1#', 'https://lichess.org/training/vRHDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vrizp', 'Blitz', 'Betochon', 1768, 'dan_the_man_ITA', 1711, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Ne7,Qe2,O-O,O-O,Bf5,c3,c6,Bg5,f6,Bh4,Qc7', 'Bxf5,Nxf5,Qe6+,Qf7,Qxf5', 'https://lichess.org/training/Vrizp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vRJA3', 'Rapid', 'DUTRACHESS', 1978, 'andrea45', 1890, 'd4,d5,c4,c6,Nc3,Nf6,g3,e6,Bg2,Be7,Nf3,O-O,O-O,Nbd7,cxd5,cxd5,Bf4,a6,Rc1,b5,Re1,Bb7,Nd2,Nh5,Be3,Nhf6,f4,Ng4,Bf2,Nxf2,Kxf2,Nf6,e4,dxe4,Ncxe4,Qxd4+,Kf1,Nd5,Nb3,Ne3+,Rxe3,Qxe3,Qd4,Qxd4,Nxd4,Bxe4,Bxe4,Rac8,Nc6,Bf6,b3,Rc7,Ke2,Bb2,Rc2,Ba3,b4,Kh8,Kd3,Rd7+,Kc3,Rc8,Kb3,Bxb4,Kxb4,Rd1,Kc5,f5,Bg2,g6,Kb6,Rd6,Kxa6,Kg7,Kxb5,Rc7,Kb6,Rc8,Kb7,Rf8,Kc7,Rd1,Ne5,Kh6,a4,Ra1,Bc6,Rg8,Kd7,Rg7+,Kxe6,Ra3,Kf6,Ra7,Nf7+,Kh5,Bf3+,Rxf3,Ng5,Ra6+,Ke5,Rxa4,Rc7,Re3+,Kd5,Ra5+,Kc4,Rea3', 'Rxh7+,Kg4,Rh4#', 'https://lichess.org/training/vRJA3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vRKIq', 'Blitz', 'meistars', 1711, 'riddlesdiddles', 1702, 'd4,d5,Nc3,Nc6,Bf4,Nf6,Nb5,Qd7,Nxc7+,Kd8,Nxa8,Nb4,Nc7,Qf5,Rc1,Qxf4,Nb5,Ne4,Nf3,Nxa2,Ra1,Nb4,e3,Qf6,Rxa7,Qb6,Ra8,e6,Nc3,Bd6,Nxe4,dxe4,Ne5,Bxe5,dxe5+,Kc7,Qd6+,Qxd6,exd6+,Kxd6,c3,Nd3+,Bxd3,exd3,Kd2,e5,Kxd3,Bf5+,e4,Bxe4+,Kxe4,Rxa8,Rd1+,Ke6,f3,f6,g4,Ra2,Rd2,Ra1,h4,Rh1,h5,g6,hxg6,hxg6,Rd8', 'Re1+,Kd3,Rd1+,Ke3,Rxd8', 'https://lichess.org/training/vRKIq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VrkP1', 'Classical', 'Sherif_62', 1639, 'DimaSniper93', 1633, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,e6,a3,Nc6,e3,a6,Bd3,Bd6,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Re1,O-O,e4,d4,Ne2,Qc7,f4,Bd6,e5,Be7,exf6,Bxf6,b4,Re8,Bb2,Bg4,h3,Bxe2,Rxe2,Qxf4,Rxe8+,Rxe8,Qb3,Re3,Rf1,Qg3,Qc4,g6,Bxd4,Bxd4', 'Qxf7+,Kh8,Qf8#', 'https://lichess.org/training/VrkP1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VrkY6', 'Blitz', 'borisov_maxim', 2686, 'FM squat2depth', 2660, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nf6,Nc3,e5,Nf3,exd4,Qxd4,Qxd4,Nxd4,Bb4,f3,O-O,Be3,Rd8,Bc4,c6,Rc1,Nbd7,Kf2,Ne5,Be2,Bc5,Rhd1,Be6,Nxe6,Bxe3+,Kxe3,fxe6,h3,g5,g3,Ng6,f4,gxf4+,gxf4,e5,fxe5,Nxe5,Rf1,Rd6,Rf5,Ned7,e5,Re8,Rg1+,Kh8,Kf4,Rd4+,Ke3,Rh4,Bg4,Nxe5,Kf4,Nfxg4,hxg4,Nd3+,Kg3,Rh6,Rgf1,Rhe6,Rf7,R6e7,b3,Ne5,Rxe7,Rxe7,g5,Kg7,Ne4,Nf7,Kf4,Rd7,Nf6,Rd2,Kf5,Rxa2,Nh5+,Kg8,Nf6+,Kg7,Nh5+,Kf8,Nf6,Ra5+,Ke6,Nxg5+,Kd6,Kg7,Ne8+,Kg6,Rf6+,Kh5,Ng7+,Kg4,Kc7,Rb5,Rf1,Ne4,Rg1+,Kf4,Rh1,Rxb3,Ne6+,Ke5,Nd8,c5,Rh5+,Kd4,Nxb7,c4,Na5,Ra3,Nc6+,Ke3,Rh3+,Kd2,Rxa3,c3,Nd4,Kd3,Nb5,Kc4,Nxc3,Nxc3,Rxa7', 'Nb5+,Kd7,Nxa7', 'https://lichess.org/training/VrkY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VRlG7', 'Classical', 'alicia_luis', 1679, 'pjsw92', 1703, 'e4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Nc3,Bxb5,Nxb5,c6,Nbd4,Nf6,O-O,Be7,Ne5,Nbd7,Ndf3,O-O,d4,Ne4,Re1,f6,Nd3,Qc7,Bf4,Bd6,Bxd6,Qxd6,Nc5,Ndxc5,dxc5,Qxc5,Qd4,a5', 'Rxe4,Qxd4,Rxd4', 'https://lichess.org/training/VRlG7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vrM5i', 'Rapid', 'Stevieboy', 1939, 'matabio', 1906, 'd4,Nf6,c4,e6,g3,d5,Bg2,c6,Nf3,Be7,O-O,O-O,Qc2,Nbd7,Nbd2,Rb8,Rd1,b6,b3,Bb7,e4,dxe4,Nxe4,Nxe4,Qxe4,c5,Qe2,Qc7,Bb2,cxd4,Rxd4,Bf6,Rd3,Nc5,Bxf6,Nxd3,Bxg7,Kxg7,Qxd3,Rfd8,Qc2,Rd7,Ng5,Bxg2,Qxh7+,Kf8,Kxg2,Qe5,Qh6+,Qg7', 'Nh7+,Kg8,Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/vrM5i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VRNGg', 'Rapid', 'saphal', 1663, 'Maestro076', 1677, 'e4,d5,e5,c5,f4,Bf5,d3,Nc6,Na3,e6,Be2,Qb6,Nf3,h6,O-O,O-O-O,Kh1,g5,fxg5,hxg5,Bxg5,Be7,Be3,Bg4,h3,f5,Kg1,Bxh3,gxh3,Rxh3,Kf2,d4,Bf4,Nh6,Rh1,Ng4+,Kg1,Rxh1+,Kxh1,Nf2+,Kg2,Nxd1,Rxd1,Qxb2,Nc4,Qxc2,Kf2,Rh8,Nd6+,Bxd6,exd6,Kd7,Ne5+,Nxe5,Bxe5,Rh3,Rg1,Qd2,Rg7+,Kc6,d7,Qe3+,Kg2,f4,d8=Q,Rg3+,Rxg3,Qxg3+,Kh1', 'Qe1+,Kg2,Qxe2+', 'https://lichess.org/training/VRNGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vRnRH', 'Classical', 'pedroregistro', 1953, 'clanp', 1801, 'e4,c5,Nc3,d6,f4,Nc6,Nf3,Bg4,Bb5,Qb6,Nd5,Qa5,Bxc6+,bxc6,Nc3,Nf6,O-O,d5,d3,e6,Bd2,Qb6,Na4,Qb5,b3,c4,dxc4,dxc4,Qe1,cxb3,cxb3,Rd8,Rc1,Nxe4,Ba5,Rd5,Qxe4,Bxf3,Qxf3,Qxa5,Rxc6,g6,Rc8+,Kd7,Rfc1,Bg7,R8c5', 'Bd4+,Kh1,Bxc5', 'https://lichess.org/training/vRnRH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VROWO', 'Rapid', 'DalPrm', 2001, 'Muhammadjon55', 2014, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Nc6,Nc3,Nf6,Be2,Bc5,Ndb5,O-O,O-O,d5,exd5,Nxd5,Nxd5,exd5,Bf4,Bb6,c3,Re8,Bd3,a6,Nd6,Re6,Nxf7,Qf6,Qh5,Qxf7,Qxh7+,Kf8,Qh8+,Qg8,Qh5,Bd7,Rae1,Rae8,Bg6,Rxg6,Qxg6,Qf7,Rxe8+,Bxe8,Qg3,Ne7,Bd6,Kg8,Re1', 'Nf5,Qf4,Nxd6', 'https://lichess.org/training/VROWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vrq8P', 'Blitz', 'Passdar', 2454, 'FM CACHS', 2421, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,Re1,Nf6,c4,e5,Nc3,Be7,d3,O-O,Bg5,Ne8,Be3,Nc7,Rb1,h6,a3,f5,exf5,Qxf5,b4,cxb4,axb4,Ne6,Nd5,Bd8,b5,Ncd4,Bxd4,Nxd4,Re3,Bg5,Qe1,Bxe3', 'Ne7+,Kh8,Nxf5,Nxf3+,gxf3', 'https://lichess.org/training/Vrq8P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vrRnb', 'Rapid', 'Moussi31', 2186, 'rulloa', 2131, 'e4,c5,c3,Nf6,Qc2,e6,Be2,Nc6,f4,d5,e5,Nd7,Nf3,b6,O-O,Bb7,d4,Be7,f5,cxd4,cxd4,Rc8,Nc3,exf5,Qxf5,g6,Qh3,Nf8,Qh6,Ne6,Be3,Bf8,Qh3,Bg7,Bb5,O-O,Bxc6,Bxc6,Rac1,Bd7,Qg3,Bc6,Bg5,Qd7,Qh4,Bb7,Bh6,Ba6,Bxg7,Kxg7,Rfe1,Bd3,Ng5,Nxg5,Qxg5,Qf5,Qxf5,Bxf5,Nxd5,Rxc1,Rxc1,Rd8,Ne7,Be4,Re1,Bb7,d5,Bxd5', 'Rd1,Re8,Nxd5', 'https://lichess.org/training/vrRnb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vrsUG', 'Rapid', 'Cachoraochess', 1996, 'dzeki7', 2038, 'd4,d5,Nf3,Nc6,Bf4,Bf5,e3,Qb8,Nbd2,Nf6,h3,Qc8,c4,dxc4,Bxc4,g6,O-O,Bg7,Ng5,O-O,e4,Bd7,d5,Na5,Bd3,b6,Rc1,c5,b4,Nb7,bxc5,Nxc5,Nb3,h6,Nf3,Bxh3,gxh3,Qxh3,Nxc5,bxc5,Rxc5,Ng4,Nh2,Nxh2,Bxh2,Bd4,Rc4,Bf6,e5,Bg7,Be2,Rad8,Bg4,Qa3,Qb3,Qa6,Rc6,Qa5,d6,exd6,exd6,h5,Bf3,Qg5+,Bg2,Be5,Qe3,Bxh2+,Kxh2,Qh4+,Kg1,a5,Qg3,Qa4,Qb3,Qf4,Qc4,Qxc4,Rxc4,Rxd6,Rc7,Rd2,Ra1,Re8,a4,Ree2,Rf1,Re5,Ra7,Rd4,Bc6', 'Rg5+,Bg2,Rdg4,f4,Rxg2+', 'https://lichess.org/training/vrsUG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VRt60', 'Rapid', 'Duh98', 1926, 'jardiwelo', 2076, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Bd2,Bc5,e3,Qe7,Nc3,Ngxe5,a3,a5,Nd5,Qd8,Bc3,d6,Nxe5,Nxe5,f4,Ng4,Bd4,Bxd4,Qxd4,O-O,Be2,Nh6,O-O,Nf5,Qc3,c6,e4,cxd5,exf5,dxc4,f6,Qxf6,Qxf6,gxf6,Bxc4,Be6,Bd3,f5,Rad1,Rfd8,Be2,Rac8,Rd2,Kf8,Bf3,Rc7,Bd5,Rdc8,Rfd1,Rd8,Bxe6,fxe6,Rxd6,Rxd6,Rxd6,Ke7,Rd2,b5,Kf2,Rc4,Kf3,Kf6,h4,h5,g3,Re4,Rc2,b4,axb4,Rxb4,Rd2,Rb3+,Kg2,a4,Rc2,Re3,Rc8,Re2+,Kf3,Rxb2,Rf8+,Kg6,Rg8+,Kf7,Rh8,Kg6,Re8,Kf6,Rf8+,Ke7,Rh8,a3,Rxh5,a2,Rh7+,Kd6,Ra7,e5,fxe5+,Kxe5,Ra5+,Kd4,h5,Kc4,h6,Kb4,Ra7', 'Rb3+,Kf4,Ra3', 'https://lichess.org/training/VRt60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vrUcG', 'Bullet', 'IM IMFAR', 2639, 'GM dalmatinac101', 2766, 'e4,h5,d4,h4,c4,e6,Nc3,d6,Bd3,b6,Nge2,a6,Be3,Bb7,Qd2,Nd7,O-O-O,Be7,Rhe1,Ngf6,f4,b5,e5,b4,exf6,bxc3,Nxc3,Bxf6,d5,O-O,g4,exd5,Nxd5,Bxd5,cxd5,Rb8,b3,Nb6,g5,Nxd5,gxf6,Qxf6,Qb2,Nc3,Rd2,Rfe8,f5,d5,Bf2,Rxe1+,Bxe1,Re8,Bf2,d4,Kc2,c5,b4,c4,Bxc4,Qxf5+,Bd3,Qe5,Bxd4,Qxd4,Qxc3,Qg4,Qc4', 'Rc8,Kb3,Rxc4', 'https://lichess.org/training/vrUcG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vrUqi', 'Rapid', 'Johnss', 1752, 'vsetin', 1732, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,Be7,Bd3,Nbd7,a3,c5,c4,b6,O-O,Bb7,Nc3,O-O,Qc2,Rc8,Ng5,h6,Nf3,cxd4,exd4,dxc4,Be2,Nd5,Nxd5,exd5,Rfe1,Nf6,Qc1,Ne4,Bd1,f5,Bc2,Bf6,Bxh6,gxh6,Qxh6,Qd7,Nh4,Bxh4,Qxh4,Qh7,Qf4,Rf6,Re3,Qc7,Qh4,Qh7,Qf4,Kf8,Bxe4,dxe4,Rh3,Qg6,Rh8+,Kf7', 'Rxc8,Bxc8,Qc7+,Bd7,Qxd7+', 'https://lichess.org/training/vrUqi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vrVnI', 'Blitz', 'Ayakiras', 1702, 'Zebastian99', 1690, 'e4,e5,d3,Nc6,Be2,d5,Nf3,dxe4,dxe4,Qxd1+,Bxd1,Nf6,Nc3,Bg4,O-O,Bxf3,Bxf3,O-O-O,Nd5,Nxd5,exd5,Nd4,c4,Nxf3+,gxf3,Bc5,Be3,Bb4,a3,Be7,b4,f5,f4,e4,f3,exf3,Rxf3,g6,Rd1,h6,Kf2,g5,fxg5,hxg5,Rxf5,Rxh2+,Kg3,Rdh8,Bxg5,Bd6+,Kg4,Rg2+,Kf3,Ra2,Bc1,Rh3+,Kg4', 'Rg3+,Kh5,Rh2#', 'https://lichess.org/training/vrVnI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vrVse', 'Rapid', 'teszub', 1962, 'Kudosam', 1893, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Ne5,Bb3,Bc5,c3,d6,O-O,Nf6,Bc2,O-O,a4,a5,Be3,Nc4,Bc1,Bg4,Qd3,Ne5,Qg3,Bxd4,cxd4,Nc4,b3,Nb6,e5,dxe5,dxe5,Qd4,exf6,Qxa1,Qxg4,Qxf6,Qe4,Rfc8,Qh7+,Kf8,Qh8+,Ke7,Ba3+,c5,Re1+,Kd6,Qh7,Re8,Qd3+,Qd4,Qg3+,Kc6,Rf1,Nd5,h3,Kb6,Rd1,Qe5,Qd3,Nc7,Nd2,Rad8,Qf3', 'Rxd2,Rxd2,Qe1+,Kh2,Qxd2', 'https://lichess.org/training/vrVse');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vRWtN', 'Rapid', 'HuseyinOztuna2', 1668, 'navid777', 1728, 'e4,Nc6,Nc3,e5,Nf3,Nf6,Nxe5,Nxe5,d4,Nc6,d5,Ne5,f4,Neg4,e5,Bc5,Qe2,O-O,h3,Nf2,Rh2,d6,g4,dxe5,fxe5,Nxd5,Ne4,Nxe4,Qxe4,f5,Qc4,b6,gxf5,a5,Bd2,Ba6,Qe4,Qd7,Bxa6,Rxa6,O-O-O,Rxf5', 'e6,Qe8,Qxf5', 'https://lichess.org/training/vRWtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vrx4c', 'Blitz', 'bhagathsingh', 1681, 'chanda00', 1720, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e6,Nc3,Nf6,f4,Nc6,Be2,Be7,O-O,O-O,Be3,Bd7,f5,exf5,Nxf5,Bxf5,exf5,Ne5,Bg5,Rc8,Bxf6,Bxf6,Nd5,Nc4,Bxc4,Rxc4,Nxf6+,Qxf6,Qd3,Rd4,Qc3,Qe5,Rae1,Qc5,Qb3,Rb4+,Qe3,Qxe3+,Rxe3,Rxb2,Rd3,Rxc2,Rxd6,Rxa2,Rd7,b6,f6,g6,h4,h5,Re1,Ra5,Ree7,a6,Rb7,b5,Ra7,b4,Reb7,Rb5,Rxb5,axb5,Rb7,Rc8,Rxb5,Rc1+,Kh2,Rb1,Kg3,b3,Kf4,b2,Kg5,Kh7,Rb7,Kg8', 'Kh6,Re1,Rb8+,Re8,Rxe8#', 'https://lichess.org/training/Vrx4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vrxU3', 'Rapid', 'srikanth124124124', 1682, 'CBird', 1645, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d3,Bg4,Be3,h6,Nbd2,Nf6,c4,c5,Qa4+,Qd7,Qxd7+,Nxd7,h3,Be6,Nh4,Be7,Ndf3,O-O,g4,Bxh4,Nxh4,g5,Nf3,Kg7,Ke2,Nf6,h4,Nxg4,hxg5,Nxe3,gxh6+,Kh7,Kxe3,f5,exf5,Bxf5,Rag1,Rg8,Rxg8,Rxg8,Nh4,Bd7,Nf3,Bc6,Rg1,Bxf3', 'Rxg8,Kxg8,Kxf3', 'https://lichess.org/training/vrxU3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VRybi', 'Rapid', 'qwerty1101', 1994, 'BigBlackBishop', 1959, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nb5,d6,Bf4,Qf6,Nxd6+,Bxd6,Bxd6,Qxb2,Na3', 'Qc3+,Qd2,Qxa1+', 'https://lichess.org/training/VRybi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vryZA', 'Rapid', 'topsoul', 1991, 'Spikeywikey', 2289, 'd4,c5,e3,cxd4,exd4,d5,h3,Nc6,c3,Bf5,Nf3,Nf6,Bb5,e6,g4,Be4,Nbd2,Bxf3,Nxf3,Bd6,Bg5,O-O,Bxc6,bxc6,Ne5,c5,f4,cxd4,Qxd4,Rc8,Qxa7,Bc5,Qa4,Ra8,Qb5,Ra5,Qd3,Qc7,b4,Ne4,bxc5,f6,Bxf6,Rxf6,O-O,Nxc5,Qe3,Ra3,g5,Rf8,Qd4,Ne4,Rf3,Nxg5,fxg5', 'Rxf3,Nxf3,Qg3+,Kf1,Qxf3+', 'https://lichess.org/training/vryZA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VrYZd', 'Rapid', 'hetmanik03', 1581, 'dsseifert', 1516, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,d6,Bf4,O-O,Qf3,Bb7,Rd1,Re8,O-O,a5,Qg3,Nh5,Qg4,Nxf4,Qxf4,Rf8,Rfe1,Bg5,Qg4,Bc8,Qg3,Re8,Rd3,Be6,Bxe6,Rxe6,Qg4,Rb8,b3,d5,Rg3,Bh6,h3,Rg6,Qf5,Rxg3,fxg3,Bd2,Rf1,Bxc3,Qxf7+,Kh8,g4,Bd4+,Kh1,h6,Rf5,Rc8,g5,hxg5,Qh5+,Kg8,Rxg5,Qf6,Rf5,Qh6', 'Qf7+,Kh8,Rh5,Qxh5,Qxh5+', 'https://lichess.org/training/VrYZd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VrYzk', 'Blitz', 'manschess8', 1675, 'NeroPN', 1682, 'e4,b6,Nf3,Bb7,Nc3,g6,d4,e6,Bd3,Ne7,O-O,Bg7,e5,d6,Bf4,O-O,Qd2,Nd7,Bh6,dxe5,Nxe5,Nxe5,Bxg7,Kxg7,dxe5,Nf5,g4,Nh4,Qf4,Kh8,Ne4,g5,Nxg5,Qxg5,Qxg5,Nf3+,Kg2,Nxg5+,f3,Rad8,Kg3,h6,h4,Nh7,g5,hxg5,hxg5,Kg7,Rh1,Nxg5,Rh5,Nxf3,Rh7+,Kg8,Rah1,Ng5,R7h5,f6,exf6,Ne4+,Bxe4,Bxe4,Rg5+,Kf7,Rh6,Bf5', 'Rg7+,Ke8,Re7#', 'https://lichess.org/training/VrYzk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VS0vH', 'Rapid', 'daumier', 1898, 'petrous13', 1954, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,exd4,Nxd4,Nd6,Nxc6,dxc6,Bd3,Be6,Nc3,Qf6,a4,O-O-O,a5,a6,Qe2,h5,Bxa6,bxa6,Qxa6+,Kd7,Be3,Bc4,Qa7,Bxf1,Rxf1,g5,Rd1,Be7,Ne4,Qe6', 'Nc5+,Ke8,Nxe6', 'https://lichess.org/training/VS0vH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vS1qn', 'Rapid', 'arthur1234567890', 2150, 'SMJT', 2141, 'd4,Nf6,Bf4,c5,e3,Qb6,Nc3,a6,Nf3,cxd4,Qxd4,Qxd4,Nxd4,d6,Nb3,Nc6,O-O-O,Be6,h3,g6,g4,Bg7,Bg2,O-O,Kb1,Rfc8,Nd4,Rab8,Nxe6,fxe6,Ne4,Na5,Ng5,e5,Bg3,b5,h4,h6,Ne4,Nxg4,h5,gxh5,Rxh5,Nf6,Nxf6+,Bxf6,Bd5+,Kg7,Rg1,Kh7,Bxe5,dxe5', 'Be4+,Kh8,Rxh6#', 'https://lichess.org/training/vS1qn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VS5Pj', 'Blitz', 'EntchenYolo', 2173, 'Rochardo', 1808, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Qd4,f6,h4,e5,Qd1,Ne7,Bd3,d5,h5,dxe4,Bxe4,Qxd1+,Kxd1,Bg4+,f3,O-O-O+,Ke2,Bf5,hxg6,Bxe4,fxe4,Nxg6,Nc3,Bc5,Be3,Bd4,Raf1,Rdf8,Rf5,Kd7,Rhf1,Ke6,Na4,Nh4,Bxd4,exd4,R5f2,Rhg8,Kd3,Nxg2,Kxd4,Rd8+,Kc4,Ne3+,Kc3,Nxf1,Rxf1,Rg2,Nc5+,Ke5', 'Rf5+,Kd6,Nb7+,Ke7,Nxd8', 'https://lichess.org/training/VS5Pj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vs72J', 'Classical', 'Sartin', 1787, 'SAXMAN1', 1752, 'e4,e5,Nf3,d6,Bc4,Nc6,d3,Bg4,Nc3,Nd4,h3,Bxf3,gxf3,Nf6,Bg5,Be7,Be3,c5,Nd5,O-O,c3,Nc6,f4,a6,fxe5,Nxe5,Nxf6+,Bxf6,Bd5,Rb8,d4,cxd4,cxd4,Ng6,f4,Bh4+,Kf1,Bg3,f5,Nf4,Qg4,Qh4', 'Qxh4,Bxh4,Bxf4', 'https://lichess.org/training/Vs72J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VS9T6', 'Rapid', 'ROWKA', 1709, 'm99867879', 1759, 'd4,b6,Nf3,Bb7,e3,g6,Nbd2,Bg7,Bd3,Nf6,c4,O-O,O-O,d5,Re1,dxc4,Bxc4,Na6,Qb3,Ne4,Nxe4,Bxe4,Bxa6,Bxf3,gxf3,e6,f4,Qh4,Bf1,Qg4+,Bg2,h5,h3,Qf5,Bxa8,Rxa8,Kh2,e5,dxe5,Bxe5,fxe5', 'Qxf2+,Kh1,Qxe1+', 'https://lichess.org/training/VS9T6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vS9zx', 'Rapid', 'Kellog10', 1935, 'intel2016', 2009, 'd4,d5,Nf3,c6,e3,e6,Bd3,Nf6,Nbd2,Bd6,b3,O-O,Bb2,Nbd7,O-O,Re8,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bd3,Nd5,c4,Nf4,Bc2,Be7,Ne5,Ng6,Nxg6,hxg6,Qf3,Bf6,Rad1,Qe7,Rfe1,c5,Ba3,Qc7,Bxc5,Bd7,Be4,Bc6,Bxc6,bxc6,Qg3,Qb7,Qe3,a5,Bd6,Be7,Bxe7,Rxe7,Qg5,a4,d5,cxd5,cxd5,f6,Qxg6,exd5,Rxe7,Qxe7,Qd3,Qe4,Qxd5+', 'Qxd5,Rxd5,axb3', 'https://lichess.org/training/vS9zx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vsa0y', 'Blitz', 'mc-taramalitufek', 1605, 'behsifo', 1607, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,c5,d5,exd5,exd5,Nf6,Qe2+,Be7,d6,Bxf3,Qxf3,Nc6,dxe7,Nxe7,Be3,O-O,Bd3,d5,O-O-O,d4,Ne2,Qd7,Bg5,Ned5,Nf4,h6,Nxd5,Nxd5,Bh4,b5,Be4,c4,Bxd5,Rac8,Rhe1,c3,Re7,cxb2+,Kb1,Qd6,Rxf7,Rxf7,Qxf7+,Kh8,Be7,Qc7,Bb3,Qc3,Qd5,a5,Qxd4,Qc7,Bf6,a4,Bxg7+,Kh7,Be5,axb3,Qe4+,Kg8,cxb3', 'Qc1+,Rxc1,bxc1=Q#', 'https://lichess.org/training/vsa0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSa4j', 'Rapid', 'Samual-66bb', 2111, 'DrBibber', 2217, 'd4,d5,c4,dxc4,Nc3,e5,d5,Nf6,e4,c6,Bxc4,Bb4,f3,O-O,Ne2,cxd5,exd5,Bf5,O-O,a6,Qa4,Qa5,Ng3,Bg6,Qb3,Nbd7,Be3,Nc5,Bxc5,Bxc5+,Kh1,b5,Be2,Rad8,Rad1,Rfe8,Nge4,Nxe4,Nxe4,Bd4,h4,Qc7,h5,Qe7,g4,Qh4+,Kg2,Bxe4,fxe4,g6,d6,gxh5,Qxf7+,Kh8,Rh1,Qg5,Rxh5,Qg7,Qd5,Rf8,Rdh1,Rf2+,Kh3,Qf6,Rf5', 'Qh6+,Kg3,Qxh1', 'https://lichess.org/training/vSa4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSABK', 'Rapid', 'Soundharsaminathan', 1617, 'pourahmad', 1608, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Nf3,Nc6,a4,Bg4,O-O,Nd4,Nbd2,Bb4,c3,Nxf3+,Nxf3,Bc5,h3,Bh5,Re1,f6,b4,Be7,g4,Bf7,Nh4,Nxc3,Qb3,Bxc4,Qxc4,Nd5,Nf5,Bxb4,Nxg7+,Kf7,Bh6,Bxe1,Rxe1,Kg6,Ne6,Qd6,Bg7,Rhg8,f4,Qxe6', 'f5+,Kxg7,fxe6', 'https://lichess.org/training/VSABK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSAJB', 'Bullet', 'courier-six', 1783, 'Shikamarou', 1740, 'e4,e5,Bc4,Nc6,d3,Bc5,Nc3,Nf6,f4,d6,Nf3,Bg4,a3,Nd4,h3,Nxf3+,gxf3,Bh5,f5,d5,Bb3,d4,Na4,Bd6,Bg5,Be7,Qe2,b5,Bxf6,Bxf6,Nc5,Be7,Nb7,Qc8,Na5,Qa6,O-O-O,Qxa5,Rhg1,O-O,Qg2,Bf6,Qf2,b4,Rxg7+,Bxg7,Rg1,Kh8,Qh4,Bg6,fxg6,fxg6,Rxg6,bxa3,bxa3,Qxa3+,Kd2,Qb4+,Kc1,a5,Rxg7,Kxg7', 'Qg5+,Kh8,Qxe5+,Rf6,Qxf6#', 'https://lichess.org/training/vSAJB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSaOW', 'Rapid', 'Tensax2', 1714, 'yash_papaiya', 1688, 'e4,e5,f4,d6,Nf3,Bg4,Be2,Bxf3,Bxf3,Qh4+,g3,Qd8,O-O,exf4,Bh5,Nf6,d3,fxg3,hxg3,Nc6,Bg5,Be7,Nc3,g6,Bxf6,Bxf6,Bg4,h5,Bh3,g5,Bf5,Nd4,Qd2,Nxf5,Rxf5,Be7,Raf1,f6,Nd5,O-O,Kg2,c6,Nxe7+,Qxe7,Rh1,h4,Qe2,d5,Qh5,dxe4,Qg6+,Kh8', 'Rxh4+,gxh4,Rh5+,Qh7,Rxh7#', 'https://lichess.org/training/VSaOW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSaRw', 'Rapid', 'Riuzakii', 2232, 'JJPlayz', 2221, 'd4,Nf6,c4,e6,Nf3,b6,g3,Ba6,b3,Bb4+,Bd2,Be7,Bg2,O-O,O-O,c6,Nc3,d5,Ne5,Qd6,Bf4,Qb4,Qd3,Nfd7,Nxd7,Nxd7,Bd2,dxc4,Qe3,Qd6,Ne4,Qc7,Rac1,cxb3,axb3,Bb7,b4,Nf6,b5,Nd5,Qb3,Qd7,bxc6,Bxc6,h4,Rac8,e3,Bb5,Rxc8,Rxc8,Ra1,Bc4,Qb2,a5,Nc3,Nb4,Na4,Qb5,Nc3,Qa6,Ne4,Nd3,Qb1,a4,Bf1,b5', 'Bxd3,Bxd3,Qxd3', 'https://lichess.org/training/VSaRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VsaVb', 'Rapid', 'signbit', 1670, 'bgl1', 1693, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Bc5,Nc3,Nf6,d3,d6,Na4,Bg4,h3,Bh5,Nxc5,dxc5,g4,Bg6,Kh2,h5,Kg3,hxg4,hxg4,Nxg4,Kxg4,Bh5+,Kg3,Bxf3,Qxf3', 'Qh4+,Kg2,Qh2#', 'https://lichess.org/training/VsaVb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vsbCp', 'Rapid', 'Joseph_Salazaar', 1905, 'GRCC001', 2015, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,Bc5,Be3,Qb6,b3,Ne7,Be2,O-O,O-O,d6,c3,a6,b4,Bxd4,Bxd4,Qc7,e5,d5,Bd3,Ng6,h4,h6,f4,Nc6,h5,Nge7,Nd2,Nf5,Nf3,Ncxd4,Nxd4,Qxc3,Nxf5,exf5,a3,Be6,Rf3,Qd4+,Kh1,b5,Qe2,Qxa1+,Kh2,Qxa3,Bxf5,Qxb4,Bc2,Bg4,Qd3,f5,exf6,Rxf6,Qh7+,Kf7,Bg6+,Ke6,Re3+,Kd6,Qxg7,Raf8', 'Qe7+,Kc6,Qxb4', 'https://lichess.org/training/vsbCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VsBhQ', 'Rapid', 'SergiyRiz', 1707, 'corvert', 1783, 'e3,e5,Ne2,d5,d4,exd4,Nxd4,c5,Nf3,Nf6,c3,Bg4,Bb5+,Nbd7,h3,Bh5,g4,Bg6,Ne5,a6,Bxd7+,Nxd7,Qxd5,Nxe5,Qxe5+,Qe7,Qxe7+,Bxe7,Na3,Be4,Rg1,b5,Bd2,O-O,O-O-O,Rfd8,g5,g6,Rg4,Bf5,Rg3,Bd6,f4,Rd7,h4,Rad8,Rg2,Be4,Rh2,Bf3,Rf1,Bg4,Rg1,Bh5,Nc2,a5,Rf2,Be7,e4,b4,cxb4,cxb4,b3,Rc8,f5,Bc5,fxg6,Bxf2,gxf7+,Rxf7,Rg2,Bxh4,Rh2,Bg6,Rxh4,Bxe4,Rxe4,Rfc7,Rc4,Rxc4,bxc4,Rxc4,Kb2,Rg4,Kb3,Rg2,Be3,a4+,Kb2,Re2,Kb1', 'b3,axb3,axb3,Nd4,Rxe3', 'https://lichess.org/training/VsBhQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSCAt', 'Rapid', 'elverao', 1610, 'Baloo_the_bear', 1710, 'e4,c5,Nf3,e6,Bd3,g6,Nc3,Bg7,O-O,Ne7,e5,Qc7,Qe2,a6,b3,b6,Bb2,Bb7,Be4,Nbc6,d3,Rb8,Nd1,Nxe5,Nxe5', 'Bxe5,Bxb7,Bxb2', 'https://lichess.org/training/vSCAt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vsDo9', 'Classical', 'DeepBlueDaniel', 1634, 'joaquin_jimenez', 1651, 'e4,c5,Nf3,d6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Qf3,Be6,Nxe6,fxe6,Qh5+,g6,Qe5,Nb4,Na3,Qd4,Bb5+,N8c6,Bxc6+,Nxc6,Qxe6,a6,O-O,Qe5,Qh3,Bg7,Nc4,Qc7,d3,O-O,Bh6,b5,Qe6+,Rf7,Bxg7,Kxg7,Ne3,Nd4,Qd5,Rf4,Qxa8,Ne2+,Kh1,Rb4,Nd5', 'Qxh2+,Kxh2,Rh4#', 'https://lichess.org/training/vsDo9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSeN5', 'Rapid', 'Potato1256', 1650, 'RickBishop', 1718, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,Nc6,Bb5,Bd7,d3,Nf6,Bg5,Be7,O-O,Nxe4,Bxe7,Nxf2,Bxd8,Nxd1,Bg5,Nxb2,Rab1,Nxd3,cxd3,O-O,a4,a6,Bc4,h6,Bf4,Rfc8,Rxb7,Na5,Rxc7,Rxc7,Bxc7,Nxc4,dxc4,Bxa4,Ne5,Bb3,c5,a5,Nxf7,Ra7,Bd6,Rxf7,Rxf7,Kxf7,c6,Ke8,c7,Kd7,Kf2,Bd5,Ke2,Bb7,Be5,Bxg2,Kd3,a4,Kc3,g5,Kb4,Bc6,Bg3,h5,Kc5,h4,Kb6,Bg2,Ka7,hxg3', 'Kb8,gxh2,c8=Q+', 'https://lichess.org/training/vSeN5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSf2l', 'Rapid', 'mlostaaa0', 1866, 'TheUnseenArts', 1879, 'e4,Nc6,Nf3,Nf6,Nc3,d5,e5,d4,exf6,dxc3,fxg7,Bxg7,bxc3,Qd5,Be2,Rg8,Bb2,Bf5,O-O,Bf6,c4,Bh3,cxd5,Bxg2,Bxf6', 'Bxf3+,Bg7,Rxg7#', 'https://lichess.org/training/VSf2l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vsFJA', 'Blitz', 'RRyton34280', 2106, 'kezilu', 2067, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,O-O,Nc2,Bg5,a4,bxa4,Rxa4,a5,Bc4,Rb8,b3,Kh8,Qd3,g6,h4,Bh6,h5,Qg5,Nce3,f5,hxg6,hxg6,g3,Kg7,Ng2,fxe4,Qc2,Bg4,Ra1,Bf3,Kf1,e3,Ndxe3,e4,Rh2,Ne5,Be2,Bxe2+,Kxe2,Nd3,Rf1,Rf3,Nh4,Rxe3+,fxe3,Qxe3+,Kd1,Rxb3,Qxb3,Qc1+,Ke2,Qe3+,Kd1', 'Qc1+,Ke2,Qd2#', 'https://lichess.org/training/vsFJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSFxB', 'Rapid', 'hmeknil', 1842, 'znk90', 1794, 'd4,d5,c4,e6,Nf3,dxc4,e3,Nf6,Bxc4,c5,Qe2,cxd4,exd4,Nc6,Be3,Bd7,O-O,Bd6,Nc3,O-O,g3,Rc8,a3,Na5,Bd3,Nb3,Rae1,Bc6,Ne5,a5,f3,b6,Qd1,a4,Nxc6,Rxc6,Nxa4,Na5,Bb5,Rc8,Ba6,Ra8,Bd3,Nd5,Qc2,Nxe3,Rxe3,Rc8,Bxh7+,Kh8,Rc3,Rxc3,Nxc3,Qg5,f4,Qh5,Bd3,Rc8,f5,exf5,Rxf5,Qg4,Rd5,Bxg3,Bf5,Bxh2+,Kxh2,Qf4+,Kg1,Re8,Ne4,Qe3+,Qf2,Qc1+,Kg2,Nc4,Qh4+,Kg8,Nf6+,gxf6', 'Qh7+,Kf8,Qh8+,Ke7,Rd7#', 'https://lichess.org/training/vSFxB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vsGRz', 'Rapid', 'Danil_Mal', 2046, 'ShpylykRuslan', 2223, 'e4,d6,d3,Nf6,Nd2,g6,g3,Bg7,Bg2,O-O,Ngf3,c6,O-O,Nbd7,d4,e5,dxe5,dxe5,Nc4,Nxe4,Re1,f5,c3,Qe7,Qb3,Kh8,Qc2,b5,Na5,c5,Be3,Qd8,Nc6,Qc7,Ne7,Nb6,Nxc8,Raxc8,Rad1,Rcd8,Ng5,Nxg5,Bxg5,Rxd1,Rxd1,e4,Bf4,Be5,Be3,Nc4,b3,Nxe3,fxe3,Rd8,c4,bxc4,bxc4,Rxd1+,Qxd1,Kg7,Qd5,Bf6,Kf2,Qa5,Qb7+,Kh6,Qb3,Qd2+,Kg1,Qe1+,Bf1,Bg5,Kg2,Bxe3,Qc2,Bd4,h3,Kg7,a4,Be5,Qb3,Qb4,Qa2,a5,g4,Qc3,Qf2,Bd4,Qf4,Be5,Qf2,Qa3,Qc2,Qf3+,Kg1,Qg3+,Bg2,Bd4+,Kf1,e3,Qe2,Qf4+,Kg1,fxg4,hxg4,Qxg4', 'Qxg4,e2+,Qxd4+,cxd4,Kf2', 'https://lichess.org/training/vsGRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vsGYx', 'Blitz', 'DR-kasber', 1911, 'Ace_Indo', 2066, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,a6,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,a3,Be7,Bd3,O-O,O-O,b5,Kh1,Bb7,f4,exf4,Rxf4,Ne5,Nd4,d6,Nxe7+,Qxe7,Nf5,Qd7,Qh5,Ng6,Rg4,d5,e5,Rae8,Rxg6,fxg6,Qxg6,Rxf5,Bxf5,Qf7,e6,Qf6,Qh7+,Kf8,Rf1,Ke7,Bd3,Qe5,Qg6,Kd8,Qf7,Re7,Qf8+,Re8,Qc5,Qxe6,Qa7,Kc7,Qc5+,Kb8,h3,d4,Qxd4', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/vsGYx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vshtP', 'Bullet', 'Keep-America-Great', 1732, 'firemaks', 1763, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bc4,Nc6,Nf3,Bg4,Bd2,Qh5,Qe2,O-O-O,Be3,Nxd4,Bxd4,Rxd4,Bd3,Bxf3,gxf3,Rd6,O-O-O,g6,Kb1,Re6,Be4,Bg7,Qd3,Nxe4', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/vshtP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSIkf', 'Rapid', 'Daimon01', 1926, 'limitmix', 1915, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nge2,d6,f4,Bg4,h3,Bxe2,Nxe2,Nf6,O-O,O-O,d3,a6,Be3,Rc8,g4,h6,Qd2,Kh7,Ng3,e6,e5,dxe5,Bxc5,Re8,g5,exf4', 'gxf6,fxg3,fxg7', 'https://lichess.org/training/vSIkf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSiVG', 'Rapid', 'sb19822008', 1771, 'IvanColombo', 1813, 'c4,c5,g3,d6,Bg2,Nf6,Nc3,Nc6,Nf3,e5,d3,Be6,b3,Qd7,Bb2,g6,O-O,Bh3,Ne4,Nxe4,dxe4,Bg7,Qd3,Bxg2,Kxg2,Nb4,Qd2,O-O,Rfd1,Rad8,Nxe5,Qe6,Nf3,Bxb2,Qxb2,Qxe4,a3,Nc6,Rd5,Rfe8,e3,Ne5,Qe2,Re6,Rad1,Rf6', 'Rxe5,dxe5,Rxd8+', 'https://lichess.org/training/VSiVG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vsjSf', 'Classical', 'Yak37', 1821, 'MARTIAHOORIZAD89', 1856, 'd4,d5,c4,Nc6,e3,Nf6,Nc3,Be6,b3,Na5,c5,b6,Ba3,bxc5,Bxc5,c6,Nf3,Bg4,Be2,e6,Ne5,Bxc5,dxc5,Bxe2,Qxe2,Qc7,Nf3,O-O,O-O,e5,Rad1,e4,Nd4,Nb7,Na4,Nd8,Nf5,g6,Nh6+,Kg7,Ng4,h5,Nxf6,Kxf6,f3,Kg7,fxe4,dxe4,Qb2+,Kh7,Rd6,Ne6,Qe5,Rac8,Rf6,Rcd8,Rdxe6,Rd1+,Kf2,Qa5,Rd6', 'Qe1#', 'https://lichess.org/training/vsjSf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSjYi', 'Rapid', 'VH5150', 1922, 'Donnily_Trampus', 1948, 'e4,d5,e5,Bf5,d4,e6,g4,Bg6,h4,h6,h5,Bh7,Nf3,c5,Bd3,Bxd3,Qxd3,Qb6,c3,Nc6,a3,Be7,O-O,c4,Qc2,Na5,Nbd2,Nb3,Rb1,a5,Nxb3,cxb3,Qd3,Qc6,Be3,a4,Rbc1,b5,Kg2,O-O-O,Kg3,Kb7,Nd2,Rc8,f4,f5,exf6,Nxf6,Qg6,Rhg8,Rh1,Rcf8,Qd3,Nd7,Nf3,Bd6,Ne5,Qc7,Qxb5+,Nb6,c4,dxc4,Rxc4,Qb8,Rc6,Bc7,Rhc1,Rc8,Nd7,Qa7,Nxb6,Bxb6,R1c4,Rxc6,Rxc6,Rc8,Rxe6,Qa5,Re7+,Rc7,Rxc7+,Kxc7,Qc4+,Kd6,Kf3,Qd5+,Qxd5+,Kxd5,f5,Bxd4,Bxd4,Kxd4,Ke2', 'Ke4,Kd2,Kf4', 'https://lichess.org/training/VSjYi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSLHB', 'Rapid', 'ya_tochno_ira_100', 1635, 'pavelm2020', 1615, 'e4,e6,d4,Nf6,Nc3,Bb4,e5,Nd5,Bd2,Qe7,a3,Bxc3,Bxc3,Nxc3,bxc3,b6,Nf3,Bb7,Be2,O-O,O-O,c5,dxc5,Qxc5,Re1,Qxc3,h3,Nc6,a4,Nb4,Bd3,Nxd3,cxd3,Ba6,Re3,Rac8,Rb1,Rc5', 'd4,Qxe3,fxe3', 'https://lichess.org/training/VSLHB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSLmr', 'Blitz', 'FM InfamousOne', 2464, 'blackcobra2001', 2567, 'd4,f5,c4,Nf6,Nc3,d6,Bg5,Nbd7,Qc2,g6,e3,Bg7,h4,h6,Bf4,O-O,Bd3,e5,Bh2,c6,Nh3,Qe7,O-O-O,Ng4,Bg1,Qxh4,f3,Nxe3,Bxe3,exd4,Bf2,Qf6,Ne2,c5,f4,Nb6,Neg1,Be6,Nf3,Qf7,b3,a5,a4,Rac8,Rhe1,Rfe8,Re2,d5,Nd2,dxc4,bxc4,Bd7,Rde1,Nxa4,Rxe8+,Rxe8,Rxe8+,Qxe8,Ng1,Nc3,Ngf3,Ne2+,Bxe2,Qxe2,Bh4,Qxg2,Qb3,Bc6,Ne5,Bxe5,fxe5,Qh1+,Kc2,Qxh4,Qb6,d3+,Kb3,Qd4,Qc7,Qd7,Qxa5,Qd4,Qc7,h5,e6,Qg7,Qd8+,Kh7,e7,Qf7,Nf3,d2', 'Ng5+,Kg7,Nxf7', 'https://lichess.org/training/vSLmr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vsLo5', 'Rapid', 'ucupahmad', 1722, 'kirgit', 1675, 'e4,e5,Nf3,Bc5,Nc3,d6,h3,Be6,b3,Nf6,Bb2,Nc6,Be2,Nd4,Kf1,O-O,d3,Nxf3,Bxf3,a5,Ne2,d5,c3,dxe4,dxe4,Qe7,c4,Rfd8,Qc2,Bb4,a3,Bd2,Bc3,Bf4,g3,Bg5,h4,h6,hxg5,hxg5,Qd1,Rxd1+,Rxd1,Qxa3,Kg2,Qxb3,Bxe5,Bxc4,Nd4,Qb6,Rh2,g4,Rdh1,gxf3+,Nxf3,Kf8,Rh8+,Ng8,R1h7,f6,Bd4,Qe6,Rh4,Rd8,Bc5+,Kf7,R8h7,Rd1,e5,Bf1+,Kh2,fxe5', 'Ng5+,Kf6,Nxe6,Kxe6,Rxg7', 'https://lichess.org/training/vsLo5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vslP0', 'Blitz', 'pouki9', 1783, 'mateito12', 1606, 'd4,c6,e3,d5,Nf3,Bg4,Be2,Bxf3,Bxf3,e6,O-O,Nf6,Nd2,Be7,c3,O-O,Nb3,b6,Bd2,a5,Nc1,c5,Nd3,cxd4,cxd4,Nc6,Rc1,Rc8,a3,Bd6,Re1,e5,dxe5,Nxe5,Bc3,Nxf3+,Qxf3,Ne4,Ne5,Nxc3,Nd3,Ne4,Rcd1,Qf6,Nf4,Bxf4,exf4,Rfe8,Rxd5,Nd2,Rxe8+,Rxe8,Qd1,Qe6,Re5,Qc6,Rxe8+,Qxe8,Qxd2,Qe4,g3,h6,Qd8+,Kh7,Qxb6,Qb1+,Kg2,Qe4+,Kh3,Qf5+,Kg2,Qd5+,Kh3,Qd1,Qe3,Qf1+,Kg4,h5+,Kxh5', 'Qh3+,Kg5,f6#', 'https://lichess.org/training/vslP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSmcQ', 'Rapid', 'SC0RPIAN', 1974, 'eudiometerspherical', 1759, 'f4,d5,Nf3,Nc6,g3,Nf6,Bg2,e6,O-O,Bd6,e3,b6,d4,Ba6,Re1,Ne4,c3,g5,Nxg5,Nxg5,fxg5,h6,gxh6,Rxh6,e4,Rxh2,Kxh2', 'Qh4+,Kg1,Bxg3', 'https://lichess.org/training/VSmcQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSMgg', 'Rapid', 'naisson', 1816, 'AguaGelada', 1872, 'e4,c5,Nf3,d6,Nc3,Nc6,Bb5,Bd7,d4,cxd4,Nxd4,Rc8,Nxc6,bxc6,Ba6,Rb8,O-O,Qc7,b3,Qa5,Bb2,Qxa6,f4,Qb6+,Kh1,Rd8,Qe1,Qc7,e5,e6,Ne4,d5', 'Nd6+,Bxd6,exd6,Qxd6,Bxg7', 'https://lichess.org/training/vSMgg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSMgr', 'Blitz', 'ninja_hero', 2360, 'ENDE57', 2175, 'e4,e6,d4,d5,Nd2,f5,e5,Be7,c3,Nd7,Bd3,Nf8,g4,g5,gxf5,exf5,Qh5+,Ng6,Ndf3,Be6,Bxg5,Qd7,Ne2,O-O-O,Nf4,Nxf4,Bxf4,Kb8,Rg1,c5,O-O-O,Qa4,Kb1,c4,Bc2,Qb5,Bxf5,Ba3,Bc1,Bxf5+,Qxf5,Ne7,Qe6,Rhf8,Qg4,Rf5,Ka1,Rdf8,Nd2,Qa5,Nb1,Bxb2+,Bxb2,Rxf2,Qd7,Nc6,Rg7,Qb6,Rd2,Rf1,e6,a5,e7,Nxe7,Rxe7,Rxb1+,Kxb1,Rf1+,Rd1,Qg6+,Kc1,Qg5+,Kc2,Qg6+,Kd2', 'Qd3+,Kc1,Qxd1#', 'https://lichess.org/training/vSMgr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSMLQ', 'Rapid', 'Keresch', 2074, 'Chandrakirti', 2169, 'd4,Nf6,c4,c5,Nf3,cxd4,Nxd4,a6,Nc3,e6,g3,d5,Bg2,e5,Nc2,d4,Nb1,Nc6,O-O,Bf5,b3,Qd7,Bg5,Be7,Nd2,Bh3,Nf3,h6,Bxf6,Bxf6,Rc1,h5,e3,d3,Nce1,Bg4,e4,Nd4,Qxd3', 'Nxf3+,Bxf3,Qxd3,Nxd3,Bxf3', 'https://lichess.org/training/vSMLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSnx2', 'Blitz', 'deerhunter98', 2390, 'NM dmjjmd', 2429, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,c5,d5,e6,Be2,exd5,cxd5,Bg4,O-O,Nbd7,Re1,Re8,h3,Bxf3,Bxf3,a6,a4,Rb8,a5,b5,axb6,Rxb6,Kh1,Rb4,Qd3,Rd4,Qxa6,Nxd5,Nxd5,Rxd5,Be3,Rd4,Bxd4,Bxd4,Ra2,Qb6,Qxb6,Nxb6,Ra6,Nc4,b3,Nd2,Rxd6,Nxb3,e5,Re7,Bd5,Na5,g4,g5,e6,fxe6,Bxe6+,Kg7,fxg5,Nc4,Rd7,Rxd7,Bxd7,Ne5,Be6,Nf3,Rf1,Nxg5,Bd5,Nxh3,Rf7+,Kg6,Kg2,Ng5,Rc7,Kf6,Kg3', 'Be5+,Kh4,Bxc7', 'https://lichess.org/training/VSnx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VsOaL', 'Rapid', 'keegsieb', 1701, 'Leobji', 1656, 'c4,e5,g3,Nf6,Bg2,g6,Nc3,Bg7,Nf3,Nc6,O-O,O-O,a3,d5,cxd5,Nxd5,e4,Nb6,d3,Bg4,h3,Bd7,Be3,Nc8,b4,Nd6,d4,exd4,Nxd4,Re8,f4,Nc4,Re1,Nxe3,Rxe3,Nxd4,e5,Nc6,Qb3,Be6,Bd5,Nd4,Qa2,Qe7,Rd1,Nc6,Ne4,Rad8,Red3,Bxh3,Ng5,Bf5,Bxf7+,Kh8,Rxd8,Rxd8,Rxd8+,Nxd8,Qd5,Nxf7,Nxf7+,Kg8', 'Nh6+,Kf8,Qg8#', 'https://lichess.org/training/VsOaL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vsOxD', 'Rapid', 'L01', 1665, 'joefellow', 1770, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,c3,O-O,Nbd2,a5,a4,d6,O-O,Bg4,Qb3,Rb8,h3,Bh5,Qb5,Kh8,Re1,h6,Nh4,g6,Ndf3,Bxf3,Nxf3,g5,g4,Qd7,b4,axb4,cxb4,Bxb4,Bd2,Bxd2,Nxd2,Nd4,Qb2,h5,f3,hxg4,hxg4,Kg7,Kg2,Rh8,Rh1,Rh4,Nf1,Rbh8,Ng3,c6,Nf5+,Nxf5,exf5,d5,Bb3,Qd6,Qd2,e4', 'Qxg5+,Kf8,Rxh4,Rxh4,Qxh4', 'https://lichess.org/training/vsOxD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSPVH', 'Rapid', 'mohdfarit', 1862, 'yahya2016', 1901, 'e4,d6,d4,Nd7,Bc4,a6,Nf3,c5,dxc5,Nxc5,c3,e6,Be2,Nxe4', 'Qa4+,Bd7,Qxe4', 'https://lichess.org/training/VSPVH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSqOz', 'Rapid', 'nerceiram', 1909, 'volk82', 1707, 'e4,d5,exd5,Nf6,d4,Bg4,Be2,Bxe2,Qxe2,Nxd5,Nf3,Nc6,O-O,e6,Rd1,Bd6,Bd2,Qd7,Nc3,Nxc3,Bxc3,O-O-O,Ne5,Qe8,Qf3,Nxe5,dxe5,Be7,Rxd8+,Bxd8,Rd1,f6,Rd4,Qg6,Rb4,c6,h3,Qxc2,exf6,Rf8,fxg7,Rxf3,g8=Q,Qxf2+,Kh2,Rf8', 'Qxe6+,Kb8,Be5+', 'https://lichess.org/training/VSqOz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VsqUV', 'Blitz', 'FM mhassen', 2259, 'Alx77', 2148, 'Nf3,c5,c4,Nc6,g3,g6,Bg2,Bg7,O-O,d6,Nc3,e5,d3,Nge7,a3,O-O,Rb1,f5,b4,a6,b5,Nb8,Bg5,Be6,Nd2,axb5,Nxb5,Nbc6,Nc3,h6,Bxe7,Qxe7,Nd5,Bxd5,Bxd5+,Kh7,Rb3,Ra7,e3,Rfa8,Qb1,h5,h4,Qd7,Nf3,Bf6,Qb2,Ne7,Bxb7,Rb8,Rb1,Kg7,e4,f4,Kg2,fxg3,fxg3,Qg4,Nh2,Qd7,Bc6', 'Rxb3,Bxd7,Rxb2+,Rxb2,Rxd7', 'https://lichess.org/training/VsqUV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSsdA', 'Rapid', 'Emohunter12', 2117, 'Edsel_Tacorda', 2149, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Bd3,Nc6,Be3,a6,a3,e6,Nge2,Bd6,O-O,O-O,h3,Ne7,Bg5,Ng6,f4,Qc7,Bxf6,gxf6,f5,exf5,Bxf5,Kg7,Nxd5,Qd8,Bxc8,Rxc8,Nxf6,Qb6,Qd2,Qxb2,Nh5+,Kh8,Qh6,Rg8,Rab1,Qxc2,Rbe1,Rcf8,Nef4,Bxf4,Rxf4,Nxf4', 'Qf6+,Rg7,Qxg7#', 'https://lichess.org/training/VSsdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vssLp', 'Rapid', 'Gazalino', 1734, 'SebalfoRojo', 1759, 'd4,d5,c4,c6,e3,Nf6,cxd5,cxd5,Qa4+,Bd7,Qb3,Qb6,Nd2,Bf5,Ngf3,e6,Qxb6,axb6,a3,Bd6,Bb5+,Nc6,O-O,O-O,a4,Rfc8,Nh4,Bg4,f3,Bh5,g4,Bg6,Nxg6,hxg6,h3,Nd7,b3,f6,Ba3,Bc7,Kg2,Kf7,Rfc1,Ndb8,Nf1,Na5,Rab1,Na6,Rc3,Bd8,Rbc1,Rc7,Bd6,Rxc3,Rxc3,Be7,Bxe7,Kxe7,h4,Kd6,e4,Nc7', 'e5+,fxe5,dxe5+,Kxe5,Rxc7', 'https://lichess.org/training/vssLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vst4y', 'Rapid', 'vinc', 2139, 'philiveykk', 1974, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Nxc6,bxc6,f3,h6,Bd3,O-O,Qe2,d5,Na4,Bb4+,c3,dxe4,Bxe4,Nxe4,fxe4,Bd6,O-O,Qh4,g3,Qh3,Bf4,Bg4,Qa6,Rfe8,Qxc6,Bd7,Qc4,Qh5,Qb3,Rab8,Qc2,Bb5,c4,Bc6,Rae1,Bxa4,Qxa4,Bc5+,Kh1,Re6,Qc2,Rbe8,Bxc7,Bb4,Re2,Bc5,Bf4,Qg6,e5,Qg4,Rfe1,Bb6,a3,Qf3+,Rg2,Kh8,b4,Bd4,Qe2,Qxa3,b5,Bxe5,Bxe5', 'Rxe5,Qxe5,Rxe5,Rxe5,Qa1+,Rg1,Qxe5', 'https://lichess.org/training/vst4y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vST8L', 'Rapid', 'Ivorybags', 1835, 'cuzox', 1864, 'e4,e6,d4,d5,exd5,exd5,Nf3,f5,Bd3,Nf6,Qe2+,Be7,O-O,O-O,Bg5,Nc6,c3,Ne4,Bxe7,Qxe7,Bxe4,fxe4,Nfd2,Qg5,Kh1,Rf6,Na3,a6,Qe3,Qh5,Qg3,Qh6,Nb3,Rf7,Nc5,b6,Nb3,Nd8,Nc2,Ne6,Ne3,Bb7,Nd2,Raf8,Ng4,Qxd2,Ne5,Rxf2,Rxf2,Rxf2,Ng4,Rf5,Rg1,Qe2', 'Nh6+,Kf8,Nxf5', 'https://lichess.org/training/vST8L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VsTD6', 'Blitz', 'TrembaAleksandr', 1796, 'akak46891', 1784, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,bxc6,Bc4,Be7,O-O,Nf6,Bg5,O-O,Nc3,Rb8,Bb3,Ng4,Bxe7,Qxe7,f3,Ne5,f4,Ng4,f5,Ne5,Qh5,Kh8,Rf4,f6', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/VsTD6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VsVC7', 'Rapid', 'Fritz5916', 1679, 'imjewi', 1742, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Bc5,Nc3,Qb6,Nce2,e5,Be3,Qxb2,Nf5,Bb4+,Bd2,Bxd2+,Kxd2,Nf6,Nxg7+,Kf8,Nf5,Nxe4+,Ke1,d5,Rb1,Qxa2,Neg3,Bxf5,Nxf5,Nc6,Bd3,Nc3,Qh5,Qxb1+,Kd2,Qxh1,Qh6+,Ke8,Nd6+,Ke7,Nf5+,Ke8,Ng7+,Kd8', 'Qd6+,Kc8,Bf5#', 'https://lichess.org/training/VsVC7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSVli', 'Blitz', 'crisnarea', 2283, 'FM CRUZATAM', 2273, 'd4,d5,c4,e6,Nc3,c5,cxd5,exd5,Nf3,Nc6,dxc5,d4,Na4,Bxc5,Nxc5,Qa5+,Bd2,Qxc5,Rc1,Qb6,Qc2,Nge7,e3,Bf5,e4,Bg4,Be2,O-O,O-O,Rad8,Rfe1,d3,Bxd3,Bxf3,gxf3,Nd4,Qd1,Nec6,f4,Qxb2,Bc3,Qxa2,Qg4,Qe6,Qg3,Qh6,Rb1,b6,Kh1,Qh5,Re3,f6,Rg1,Rd7,Bc4+,Kh8,Qg2,Rfd8,Rh3,Qe8,Rxh7+,Kxh7', 'Qh3+,Qh5,Qxh5#', 'https://lichess.org/training/VSVli');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VsVt2', 'Rapid', 'ritschie', 1747, 'Temur07', 1795, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,f3,Bh5,d4,Qa5,Bd2,c6,Ne4,Qd8,c3,Nd7,Qb3,Rb8,Ng5,Ngf6,g4,Bg6,h4,h6,h5,hxg5,hxg6,fxg6,Rxh8,Nd5,O-O-O,Nf4,Bc4,Nd5,Bxg5,N7f6,Re1,b5,Bxd5,cxd5,Re5,a5,Rxd5,Nxd5,Qc2,Qd6,Ne2,Rc8,Nf4', 'Nxf4,Bxf4,Qxf4+', 'https://lichess.org/training/VsVt2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vsWpq', 'Blitz', 'KingGladiator', 2081, 'kolyadin59', 2069, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Nf3,Bg4,Be2,e6,O-O,Bxf3,Bxf3,cxd4,cxd4,Qb6,Nc3,Qxd4,Qb3,Qb4,Qc2,Nge7,Bd2,Qb6,Na4,Qc7,Rac1,Ng6,Be2,Be7,f4,O-O,Rf3,Qd7,Rh3,Nd4,Qd3,Nxe2+,Qxe2,Qxa4,Qh5,h6,f5,exf5,Bxh6,Rfc8,Rf1,Qd4+,Be3,Qxe5', 'Qh7+,Kf8,Qh8+,Nxh8,Rxh8#', 'https://lichess.org/training/vsWpq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSWVv', 'Classical', 'Niconico16', 1857, 'wuarencillx', 1605, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,cxd4,cxd4,Bb4+,Bd2,Qa5,Rb1,Bxd2+,Qxd2,Qxd2+,Kxd2,O-O,Bc4,b6,d5,Bb7,dxe6,Bxe4,exf7+,Kh8,Rbc1,Nd7,Rhd1,Nc5,Ke3,Rac8,Rd4,Rc7,Rcd1,Re7,Rd8,Bxf3+', 'Kxf3,Rxf7+,Bxf7', 'https://lichess.org/training/VSWVv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSxKe', 'Rapid', 'ChennaiBoy', 1851, 'ficher2016', 1601, 'd4,Nc6,Nf3,d5,e3,Bf5,Bd3,Be4,c3,Nf6,O-O,Qd7,Ng5,h6,Nxe4,dxe4,Bc2,O-O-O,f3,exf3,Qxf3,Kb8,Rd1,Qg4,Qxg4,Nxg4,b4,a6,Be4,Na7,a4,e6,h3,Nf6,Bd3,e5,Na3,e4,Be2,Nd5,Bd2,f5,Nc2,Nf6,c4,g5,Rf1,Be7,Rxf5,g4,hxg4,Rhg8,Raf1,Nxg4,R1f4,h5,Bxg4,hxg4,Rxe4,Bh4,Rff4,Nc8,Rxg4,Rxg4,Rxg4,Be7,e4,c6,Bg5,Bxg5,Rxg5,Re8,e5,Nb6,c5,Nxa4,Rg3,Nb2,Kf2,Nc4,Rg7,Rf8+,Ke2,Re8,Kd3,Nb2+,Ke4,Na4,Ne3,Nc3+,Kf5,Rf8+,Ke6,Re8+,Kd7,Rh8,Nf5,Nd5,Nd6,Nxb4,Nf7,Rf8,Rh7,a5,Rh8', 'Rxh8,Nxh8,a4,e6,Nd5,Ng6,a3', 'https://lichess.org/training/vSxKe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSYep', 'Rapid', 'lapos', 1903, 'anadolupowers', 1898, 'd4,e6,c4,d5,e3,Nf6,Nf3,c5,Be2,dxc4,Bxc4,Nc6,O-O,cxd4,exd4,Be7,Bg5,O-O,Bxf6,Bxf6,Nc3,Nxd4,Nxd4,Bxd4,Qb3,Bxc3,Qxc3,Qb6,Rac1,Bd7,b3,Bb5,Qg3,Bxc4,Rxc4,Rad8,Rfc1,h6,h3,Qd6,Qf3,Qb8,Rc7,Rc8,Qxb7', 'Qxb7,Rxb7,Rxc1+', 'https://lichess.org/training/vSYep');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vSyg4', 'Rapid', 'tamajitbanerjee', 1655, 'G_C', 1655, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,h3,a6,a3,b5,Ba2,Bb7,Bg5,Nf6,Nc3,O-O,Nd5,Nd4,Nxf6+,gxf6,Bh6,f5,Nxd4,Bxd4,exf5,Qh4,Qd2,Bxf2+,Qxf2,Qxh6,Qg3+,Kh8,O-O,Rg8,Qf2,Rg5,Bxf7,Rf8,Be6,Re8,Kh2,Rxg2+,Qxg2,Bxg2,Kxg2,Qd2+,Kh1,Re7,Rg1,Rg7,f6,Rg6,Rxg6,hxg6,Rg1,Kh7,f7,Kg7', 'Rxg6+,Kxg6,f8=Q', 'https://lichess.org/training/vSyg4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSzT9', 'Rapid', 'rcaq', 1738, 'Notch9engr', 1666, 'd4,Nf6,c4,e6,Nf3,d5,cxd5,exd5,Nc3,c6,e3,Bb4,Qc2,O-O,Bd3,g6,O-O,Bxc3,bxc3,Bf5,Bxf5,gxf5,Qxf5,Nbd7,Bb2,Kh8,Rac1,Ng8,Ng5,Ndf6,c4,Nh6,Qh3,Nfg8,Nf3,Qd6,e4,Ne7,c5,Qg6,Ne5,Qg7,exd5,Nxd5,f4,f6,Nc4,Ng4,Rb1,f5,Ne5,Rg8,g3,Rae8,Rfe1,Re6,Nf3,Rxe1+,Rxe1,Nge3,Re2', 'Nxf4,Qh4,Nxe2+', 'https://lichess.org/training/VSzT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VSzZ3', 'Blitz', 'TheGAZ', 1545, 'TiagoRL', 1525, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,e6,d4,Qb6,Be2,Nf6,O-O,a6,b3,Qa5,Bd2,Bb4,Ne4,Nxe4,Bxb4,Qxb4,Bd3,Nf6,Re1,O-O,Bc4,Qd6,Ne5,b6,Qf3,c6,Rad1,Bb7,a4,Qc7,Re3,c5,Qh3,Nbd7,Ng4,Rad8,Rdd3,Nxg4,Qxg4,Nf6,Qg5,h6,Qh4,Rd7,Rg3,Ne8,Qxh6,f6,Rg6,Be4,Bxe6+,Rff7,Rdg3,Bxg6,Rxg6,Qd6,Bxf7+,Rxf7,Rg3,Qxd4,h3,Kf8', 'Qh8+,Ke7,Re3+,Qxe3,fxe3', 'https://lichess.org/training/VSzZ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vt0t5', 'Rapid', 'Hercule_Poirot_1973', 1672, 'JanBasler', 1635, 'e4,e5,Nf3,Nc6,Bb5,h6,O-O,Nf6,c3,Bc5,d4,Bb6,Bxc6,bxc6,Nxe5,Qe7,Re1,O-O,Nd2,Re8,Ndc4,Bb7,Nxb6,cxb6,Qf3,d6,Nc4,d5,Na3,dxe4,Qg3,Kh7,Be3,c5,Nc4,Bd5,Ne5,Nd7,Nxd7,Qxd7,h4,Re6,h5,Rae8,b3,g6,dxc5,gxh5,cxb6,axb6,Rad1,Rg6,Qf4,Reg8,g3,Qh3,c4,Bc6,Rd6,h4,Rxg6,Rxg6,Qxf7+,Rg7,Qf4', 'hxg3,Qxh6+,Qxh6', 'https://lichess.org/training/vt0t5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vt1Kh', 'Blitz', 'Marshall20', 2112, 'flying-pig', 2107, 'd4,c5,Nf3,d5,c4,dxc4,e4,b5,a4,b4,Bxc4,Bg4,Bxf7+,Kxf7,Ne5+,Ke8,Qxg4,Nf6,Qe2,Qxd4,Nf3,Qxe4,Qxe4,Nxe4,O-O,g6,Re1,Nf6,Be3,Nbd7,Nbd2,Bg7,Nb3,Rc8,Rac1,c4,Na5,c3,bxc3,bxc3,Bd4,c2,Re2,Kf7,Rexc2,Rxc2,Rxc2,Nb6,Bxb6,axb6,Nc4,Rb8,g3,Nd5,Nce5+,Ke6', 'Rc6+,Kf5,g4+,Ke4,Rc4#', 'https://lichess.org/training/vt1Kh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VT2HY', 'Blitz', 'Newyorknew', 1841, 'Sodon_Korea', 1839, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,e5,Nc6,Bb5,dxe5,Qxd8+,Kxd8,Bxc6,bxc6,Nxe5,Be6,Nxc6+,Kd7,Nd4,Bb4+,c3,Bc5,Nxe6,Kxe6,O-O,Kd7,Rd1+,Kc6,Be3,Bxe3,fxe3,Rad8,Na3,Rxd1+,Rxd1,Re8,Nc2,Ng4,Re1,a6,h3,Nf6,Kf2,Ne4+,Ke2,Ng3+,Kf3,Ne4,Nd4+,Kb6,Re2,Ng5+,Kf4,h6,h4,Ne4,Nf3,Nd6,e4,Re6,e5,Nc4,Nd4,Rg6,h5,Rg5,e6,fxe6,Rxe6+,Kb7,Rg6,Rxh5,Rxg7,Rh4+,Kg3,Rh5,Rg4,Ne3,Rh4,Rg5+,Kf3,Nxg2,Rxh6,Ne1+,Kf4,Rg2,Rh7,Rxb2,Ne6,Rf2+,Ke3,Rxa2,Rxc7+,Kb6,Rh7,Rc2,Kd4,Nf3+,Kd3,Rc1,Rh6,Ne1+,Kd2,Ra1,Nd4+,Kb7,Rh7+,Kb6,Nc2,Nxc2,Kxc2,Ra2+,Kd3,Rg2,Rh6+,Kb7,c4,a5,c5,a4,Kc4,a3,Kb3,a2,Rh1,Kc6,Ra1,Kxc5,Rxa2,Rg3+,Kb2,Rg2+,Kb1,Rg1+,Kb2,Kb4,Ra1,Rg2+,Kb1', 'Kb3,Kc1,Rg1+,Kd2,Rxa1', 'https://lichess.org/training/VT2HY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vt6yP', 'Blitz', 'WIM chikita2018', 2275, 'Luisaogm', 2232, 'Nf3,Nf6,d3,d5,g3,c5,Bg2,Nc6,O-O,e5,Nbd2,Be7,e4,O-O,a4,h6,Re1,dxe4,dxe4,Be6,c3,Qd7,Qe2,Rad8,Nc4,Qc7,h3,Nd7,Kh2,Nb6,Ne3,Rfe8,a5,Nc8,a6,b6,Nd5,Bxd5,exd5,Rxd5,Nh4,Rdd8,Nf5,Bf8,Qg4,Kh8,Be4,Nd6,Nxd6,Qxd6,Be3,Ne7,Rad1,Qf6,Qe2,Nf5,Rxd8,Rxd8,Qf3,Nxe3,Qxf6,Ng4+,hxg4,gxf6,Re2,Kg7,Kg2,Be7,Kf3,c4,Ke3,Bc5+,Kf3,Rd1,Kg2,Ra1,Bd5,Rxa6,Bxc4,Ra1,b4,Bf8,Rd2,Rc1,Rd7,Rxc3,Bxf7,Bxb4,Bh5+,Kf8,Rf7+,Kg8,Rxf6,Bc5,Rg6+,Kh7,Re6,Rc2', 'Bg6+,Kg7,Bxc2', 'https://lichess.org/training/vt6yP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTBoM', 'Rapid', 'Alphafish2020', 1762, 'deguello', 1730, 'Nf3,d5,g3,e5,d3,Bd6,Bg2,e4,dxe4,dxe4,Ng5,Bb4+,Bd2,e3,Bxb4,exf2+,Kxf2,Qxg5,Rf1,Qf6+,Kg1', 'Qb6+,e3,Qxb4', 'https://lichess.org/training/VTBoM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vtCaY', 'Blitz', 'Aircrater', 1790, 'Avis1981', 1924, 'e4,g6,d4,Bg7,Nf3,d6,c4,e6,Nc3,Ne7,Bg5,h6,Be3,b6,Be2,Bb7,O-O,Nd7,b4,a6,a4,c5,bxc5,bxc5,Qd2,cxd4,Bxd4,Nf6,Bd3,O-O,Rfb1,Rb8,e5,dxe5,Bxe5,Bxf3,Rxb8,Qa5,Rxf8+,Kxf8,gxf3,Qxe5,Re1,Qh5,Bf5,Nxf5,Qd8+,Ne8,Rb1,Qxf3,Rb8,Qg4+,Kf1,Qh3+,Kg1,Qg4+,Kf1,Qxc4+,Kg1,Qc6,Ne4,Qc1+,Kg2,Nh4+,Kg3,Be5+,Kxh4,Qf4+,Kh3,Qxh2+,Kg4,h5+,Kf3,Qh1+,Ke3,Qe1+,Kf3,Qh1+,Ke3,Qe1+,Kd3,Qd1+,Nd2,Bf4', 'Qxe8+,Kg7,Qh8#', 'https://lichess.org/training/vtCaY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTdEA', 'Rapid', 'bahman20177', 1819, 'momo_klaus', 1978, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,d6,d3,Bg4,h3,Bh5,Be3,Bb6,Bg5,h6,Bh4,g5,Bg3,Nd4,Na4,Nxf3+,gxf3,Qd7,Nxb6,axb6,Kh2,O-O-O,a4,Nh7,Bb5,c6,Bc4,f5,exf5,Qxf5,Kg2,Rhf8,Qe1,Bxf3+,Kh2,g4,h4,Nf6,Qe3,Kc7,a5,b5,Qb6+,Kb8,a6,Qc8,Be6,Qc7', 'a7+,Ka8,Qxc7', 'https://lichess.org/training/VTdEA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTdTw', 'Classical', 'Jyzee', 1828, 'LeonKing777', 1780, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,e3,Nc6,Nf3,Nf6,Be2,e5,d3,Bg4,Nd2,Bxe2,Nxe2,Bc5,a3,O-O,b4,Bb6,Nc4,Re8,Nxb6,axb6,Bb2,e4,dxe4,Nxe4,O-O,Qg5,f3', 'Qxe3+,Kh1,Nf2+,Rxf2,Qxf2', 'https://lichess.org/training/VTdTw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTE7J', 'Rapid', 'Miko-Tecko', 1976, 'MacheteFlow', 1837, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,Nf3,Nf6,Bg5,Be6,Ne5,Be7,Bb5+,Nbd7,dxc5,O-O,Nxd7,Bxd7,Bxf6,Bxf6,Bxd7,Bxc3+,bxc3,Qxd7,O-O,Rac8,Qd4,Qc6,Rfd1,Rfd8,Rab1,Qxc5,Rxb7,Qxc3,Qxc3,Rxc3,Rxa7,Rxc2,a4,d4,g3,d3,Rxd3,Re8,Kg2,g6,Rdd7,Rf8,Rac7,Rxc7,Rxc7,Ra8,Rc4,Kf8,Kf3,Ke7,Ke4,Kd6,Kd4,Ra5,Kc3,Kd5,Kb4', 'Rxa4+,Kxa4,Kxc4', 'https://lichess.org/training/VTE7J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTeFR', 'Rapid', 'LokeshMangal', 1637, 'navneetnv', 1643, 'd4,d5,Nf3,Nf6,c3,c5,Bg5,Nc6,dxc5,e5,Qa4,Be7,Nxe5,Bd7,Nxc6,Bxc6,Qd4,b6,cxb6,axb6,e3,Bc5,Qe5+,Kf8,Nd2,Bd6,Bxf6,Bxe5,Bxd8,Rxd8,Nf3,Bf6,O-O-O,g6,h4,Kg7,Bd3,Ra8,a3,Ba4,Rd2,b5,Bc2,Rhc8,b3,Rxc3,bxa4,Rxa3,Rxd5,bxa4,Kd2,Bc3+,Ke2,Ra2,Kd3,Rc8,h5,Bf6,h6+,Kg8,Ne1,a3,Bb3,Rxf2,Nc2', 'Rc3+,Ke4,Rxb3', 'https://lichess.org/training/VTeFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vtERw', 'Rapid', 'Overun', 1855, 'maxgarbage', 1737, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,g6,Be3,Bg7,Bd3,b5,a3,Bb7,f3,Nc6,Nde2,Nge7,O-O,O-O,Qd2,Qc7,Rad1,d6,Bh6,Rfd8,Bxg7,Kxg7,f4,Ng8,Qe3,Nce7,h3,d5,e5,Nf5,Bxf5,exf5,Rd2,Qc6,Qf3,Ne7,Rfd1,Qb6+,Kh1,d4,Qf2,Bxg2+,Kxg2,Qc6+,Kh2,dxc3,Rxd8,Rxd8,Rxd8,cxb2,Rd1,Qxc2,Qe1,Nd5,Kh1,Ne3,Rb1,Nc4,e6,fxe6,Qc3+,Qxc3,Nxc3,Nxa3,Rxb2,Nc4,Ra2,b4,Nd1,a5,Nb2', 'b3,Ra1,Nxb2', 'https://lichess.org/training/vtERw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VtFrZ', 'Blitz', 'kinodaurio', 1727, 'addX35B', 1719, 'd4,d5,Bf4,b6,e3,Ba6,Bxa6,Nxa6,Nf3,e6,Ne5,Bd6,Nd2,Qf6,Ndf3,Ne7,O-O,Rd8,Qe2,Nb4,a3,Nbc6,c4,O-O,cxd5,exd5,Rac1,Na5,b4,Nc4,Nxc4,Bxf4,exf4,dxc4,Rxc4,Nd5,Qe5,Qd6,Rfc1,Nxf4,Rxc7', 'Qxe5,dxe5,Ne2+,Kf1,Nxc1', 'https://lichess.org/training/VtFrZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vthGr', 'Rapid', 'PapaSmurf1', 1926, 'StefizZagorja', 2149, 'e4,e5,Nf3,d5,exd5,e4,Qe2,f5,d3,Nf6,dxe4,fxe4,Nc3,Bb4,Bd2,Bxc3,Bxc3,O-O,Ne5,Nxd5,O-O-O,Nxc3', 'Qc4+,Nd5,Rxd5', 'https://lichess.org/training/vthGr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vThij', 'Rapid', 'vobarno5', 1793, 'onggiaochaphet', 1810, 'e4,c5,f4,d6,Nf3,Nc6,Bc4,e6,c3,Nf6,d3,Na5,Bb5+,Bd7,Bxd7+,Nxd7,d4,cxd4,cxd4,Nc6,Nc3,Be7,O-O,a6,a3,b5,Be3,O-O,e5,dxe5,fxe5,Nb6,Kh1,Nc4,Qe2,Nxe3,Qxe3,Qd7,Rad1,Rfd8,h3,Na5,b4,Nc4,Qc1,Qb7,Rd3,Rac8,Qa1,a5,bxa5,Nxa5,Rb1,Nc4,Rxb5,Qa6,a4,Na3,Rb3,Nc2,Qd1,Nb4,Rd2,Nd5,Nxd5,Rxd5,Ra2,Ra5,Rab2,Rxa4,Rb6,Ra1,Rb1,Rxb1,Qxb1,Qe2,Rb8,Rxb8,Qxb8+,Bf8,Ng5,h6,Nf3,g6,Qd8,Qd1+,Kh2,Qc1,Qf6,Qc8,Nh4,Bg7,Qf4', 'g5,Qg4,gxh4', 'https://lichess.org/training/vThij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vthrZ', 'Rapid', 'win_21', 1663, 'masyjon', 1894, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Bd3,Be7,Bxf6,Bxf6,Nde2,b5,a3,Bb7,O-O,Nc6,h3,O-O,Qd2,Rc8,Ng3,Qb6,b4,Nxb4,Nd5,Nxd5,exd5,Bxa1,Rxa1,Bxd5,Nh5,Qd4', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/vthrZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTiGO', 'Blitz', 'serpens', 1540, 'pooya2800', 1576, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,h3,Nc6,d5,Ne5,Be2,Nxf3+,Bxf3,h6,O-O,Nh7,Be3,f5,h4,f4,Bd4,e5,dxe6,Bxe6,h5,g5,Be2,g4,Bxg7,Kxg7,Qd4+,Kg8,Rad1,g3,fxg3,fxg3,Qe3,Qh4,Rf3,Ng5,Rxg3,Rf7,Rf1,Raf8,Rxf7,Rxf7,e5,Kh8,Ne4,Nxe4', 'Qxh6+,Rh7,Qf8+,Bg8,Qxg8#', 'https://lichess.org/training/VTiGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vTj1i', 'Blitz', 'alphonsea', 2177, 'Bayaan', 2280, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,Nc6,Bc4,Nb6,Bb3,d6,exd6,Qxd6,Ne2,Bf5,O-O,O-O-O,Bf4,e5,dxe5,Qg6,Qc1,Bd3,Nbc3,Bc5,a4,Nd4,Nxd4,Bxf1,Qxf1,Rxd4,Be3,Rb4,Bxf7,Qxf7,Bxc5,Rxb2,a5,Nc4,Bxa7,Nxe5,Ne4,Rd8,Qc1+,Qc4,Qxb2,Qxe4,Rc1+,Kd7,Rd1+,Ke6,Qb6+,Nc6,Qb3+,Kf6,Qc3+,Kf5,Rxd8', 'Qb1+,Rd1,Qxd1+,Qe1,Qxe1#', 'https://lichess.org/training/vTj1i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vTk5y', 'Rapid', 'mhmedsaad1', 1670, 'AndreasN10', 1676, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,Nbd7,c3,e6,Qa4,Be7,Bb5,c6,Be2,O-O,O-O,c5,Qc2,Rc8,Bd3,Bxd3,Qxd3,cxd4,cxd4,Ne4,Nc3,Nef6,Rac1,Re8,Rc2,Nb6,Rfc1,Nc4,b3,Nd6,Bxd6,Bxd6,Nxd5,Nxd5,Rxc8,Qe7,Rxe8+,Qxe8,Ne5,f6,Nc4,Be7,Na5,b6,Nc6,Qd7,Nxe7+,Qxe7,Rc8+,Kf7,Qc2,f5,f3,Kf6,Qc1,g5,e4,fxe4,fxe4,Nf4,Rc7', 'Ne2+,Kf2,Nxc1,e5+,Kf7', 'https://lichess.org/training/vTk5y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vTKsI', 'Blitz', 'doktorkafir', 2087, 'cubache86', 1861, 'c4,e5,Nc3,Nc6,g3,Nf6,Bg2,Bb4,a3,Bxc3,dxc3,h6,e4,d6,Ne2,O-O,O-O,Be6,b3,Qd7,a4,Rae8,Re1,Bh3,Bh1,Nh7,f3,f5,Qd5+,Kh8,Qb5,fxe4,fxe4,Nf6,a5,Ng4,a6,b6,Ra2,g5,Bxg5,hxg5,Nc1,Rf7,Nd3,Ref8,Bg2,Bxg2,Kxg2,Rf1,Rxf1', 'Ne3+,Kg1,Rxf1#', 'https://lichess.org/training/vTKsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VtktP', 'Rapid', 'umutcrs', 1791, 'chj2018', 1765, 'c4,c5,Nc3,Nf6,Nf3,Nc6,g3,e5,Bg2,a6,e3,Be7,O-O,O-O,d4,exd4,exd4,cxd4,Nxd4,Nxd4,Qxd4,d6,b3,Re8,Re1,Ng4,Na4', 'Bf6,Rxe8+,Qxe8,Qd2,Bxa1', 'https://lichess.org/training/VtktP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTmpH', 'Classical', 'wanderean', 1737, 'muc4hid', 1818, 'Nf3,Nf6,g3,Nc6,Bg2,d5,d4,Bg4,Nbd2,e6,c3,g6,O-O,Bh6,h3,Bxf3,exf3,Bg7,Nb3,b6,Bg5,h6,Bf4,Nh5,Be3,g5,Qd2,f5,g4,Nf6,gxf5,O-O,fxe6,Re8,f4,g4,f5,gxh3,Bxh3,Ne4,Qc1,Qh4,Kg2,Kh7,Nd2,Rg8,Nxe4,dxe4,Rh1,Bxd4+,Kf1,Bxe3,Qxe3,Ne5,Bg2,Qf6,Qxe4,Rad8,Qc2,Rxg2,Kxg2,Nd3,Rag1,Qxf5,Kf1,Qf3,Qd2,Nf4,Qc2+,Rd3,Rh2', 'Qd1+,Qxd1,Rxd1#', 'https://lichess.org/training/VTmpH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vtnwE', 'Rapid', 'domingo5', 1743, 'WATCHTHEEE', 1796, 'e4,e5,Bc4,Nf6,d3,Nc6,Nf3,Be7,O-O,d6,Nbd2,Na5,a3,Nxc4,Nxc4,Bg4,Ncd2,O-O,c3,Nh5,Qb3,Nf4,d4,Ne2+,Kh1,exd4,cxd4,Rb8,e5,dxe5,dxe5,Re8,h3,Be6,Qe3,Nxc1,Raxc1,c5,Ne4,b6,Rfd1,Qc7,Nd6,Red8,Ng5,Bxd6,exd6,Rxd6,Rxd6,Qxd6,Qe4,g6,Re1,Re8,Qa4,Re7,Rd1,Qe5,Nf3,Qxb2,Rd8+,Kg7,Qh4,Qf6', 'Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/vtnwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VtOh6', 'Rapid', 'chimsi', 1800, 'myagk', 1637, 'e4,d6,d4,Nf6,f3,g6,c3,Bg7,Be3,O-O,Bd3,b6,Ne2,c5,d5,Na6,c4,Nb4,a3,Nxd3+,Qxd3,Bb7,b4,a6,O-O,Re8,Nbc3,e6,b5,axb5,Nxb5,exd5,cxd5,Ba6,a4,Qd7,Nec3,Rac8,Rfc1,c4,Qd4,Ng4,Qxb6,Bxb5,axb5,Nxe3,Qxe3,Bxc3,Rxc3,Qxb5,Rac1,Qc5,Qxc5,Rxc5,Rxc4,Rec8,Rxc5,dxc5,Kf2,Kg7,Ke3,Kf6,Kf4,g5+,Ke3,Ke5,g3,h5,f4+,gxf4+,gxf4+,Kd6,Rc4,Ra8,f5,Ra2,h4,Rh2,Kf4,Rxh4+,Kg3,Rg4+,Kh3,f6,Ra4,Ke5,Ra6,Rxe4,d6,Rd4,Ra5,Rd5,d7,Kxf5', 'Rxc5,Rxc5,d8=Q', 'https://lichess.org/training/VtOh6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTp2x', 'Rapid', 'Kopylov-77728', 1758, 'GuardianRM', 1806, 'e4,Nc6,a3,g6,Bc4,Bg7,Ba2,Nf6,Nc3,d6,d3,O-O,Bg5,h6,Bd2,Nh7,Qc1,g5,h4,Bxc3,Bxc3,e5,hxg5,hxg5,Nf3,Qf6,Qe3,Qg7,O-O,Be6,Nh2,Bxa2,Rxa2,f5,exf5,Rxf5,Raa1,Raf8,Bd2,a6,g4,R5f6,f3,Nd4,Rac1,b6,c3,Nb3,Rcd1,Nxd2,Rxd2,c5,Rdf2,Rf4,Re1,Qh6,b4,Qh4,bxc5,bxc5,Ref1,Kg7,Kg2,Nf6,Rh1,Nxg4', 'Nxg4,Rxg4+,fxg4,Rxf2+,Qxf2', 'https://lichess.org/training/VTp2x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTPDs', 'Classical', 'billooji', 1859, 'General_Cevdet35', 2135, 'd4,d5,e3,Nf6,a3,Bf5,Nf3,Nc6,c4,e6,c5,a6,Bd3,Bg4,Be2,Bxf3,Bxf3,e5,dxe5,Nxe5,b4,Nxf3+,Qxf3,Be7,Bb2,O-O,O-O,c6,Nd2,Re8,Bd4,Qd7,h3,Rad8,Nb3,Ne4,Rad1,Bf6,Bxf6,Nxf6,Nd4,Re5,a4,Ne4,Rd3,Rde8,b5,Ng5,Qg4,Qxg4,hxg4,Re4,bxc6,bxc6,Nxc6,Rxg4,Rxd5', 'Nf3+,Kh1,Rh4#', 'https://lichess.org/training/VTPDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTPfp', 'Classical', 'professormgz', 2072, 'xakezalla', 2184, 'c4,Nf6,Nc3,e5,Nf3,Nc6,g3,g6,d4,exd4,Nxd4,Bg7,Nxc6,bxc6,Bg2,O-O,O-O,Re8,Qc2,Bb7,Rd1,Qe7,Bf4,d6,Qa4,Nh5,Be3,Qd7,Bd4,Nf6,Nd5', 'cxd5,Qxd7,Nxd7', 'https://lichess.org/training/VTPfp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTpkR', 'Rapid', 'Raychess', 1868, 'matabio', 1913, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,Be7,Bd3,O-O,c3,Nbd7,h3,c5,Ne5,cxd4,exd4,Qb6,Qc2,h6,Nd2,Nxe5,dxe5,Nd7,Be3,Bc5,Bxc5,Qxc5,Nf3,Qc7,Qe2,Nc5,Bc2,Bd7,O-O,a6,Rfd1,Bb5,Qd2,Nd7,a4,Bc6,Qe2,b5,Re1,Rfb8,Qd3,Nf8,Nd4,bxa4,Bxa4,Bxa4,Rxa4,Rxb2,Rxa6,Rxa6,Qxa6,Qxc3,Rd1,Ng6,Nb5,Qc2,Rf1,Nxe5,Nd6,Qc6,Qxc6,Nxc6,Rc1,Ne5,f4,Nd7,Rc8+,Kh7,Nxf7,Nf6,g4,Rb7', 'Rh8+,Kg6,Ne5#', 'https://lichess.org/training/VTpkR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vTQ8C', 'Rapid', 'MullaMohaymen', 1848, 'CarlsMag1005', 1722, 'e4,e5,f4,exf4,Nf3,Nf6,Bc4,Bc5,e5,Ne4,Rf1,O-O,d4,Bb6,Bxf4,h6,Qe2,Ng5,Bxg5,hxg5,Qe4,d6,Bd3,g6,Bc4,Bf5,Qe3,dxe5,Nxg5,Bxd4,Qg3,Bxb2,Qh4,Kg7,Qh7+,Kf6,Nxf7,Qd4,Rxf5+,gxf5', 'Qh6+,Ke7,Qe6#', 'https://lichess.org/training/vTQ8C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vtqec', 'Rapid', 'alsing', 1744, 'minalabh', 1792, 'e4,e5,f4,d6,Nf3,Bg4,Bc4,Be7,O-O,Nf6,c3,O-O,Qb3,b6,Ng5,d5,exd5,Bd6,fxe5,Bxe5,d4,Bd6,Bd3,h6,Nf3,Bxf3,Rxf3,Re8,Bd2,Ne4,Re3', 'Nxd2,Rxe8+,Qxe8,Nxd2,Qe3+', 'https://lichess.org/training/Vtqec');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vtskl', 'Blitz', 'emateu', 2321, 'Soyunpez02', 2268, 'e4,d5,exd5,Qxd5,Nf3,Nf6,d4,Bg4,c4,Qa5+,Nc3,c6,Be2,e6,Be3,Bb4,Qb3,Ne4,Rc1,Nd7,O-O,Bxc3,bxc3,Qb6,c5,Qc7,h3,Bh5,Qc2,Bg6,Bd3,Ndf6,Ne5,Nxc5,Nxg6,Nxd3,Nxh8,Nxc1,Rxc1,O-O-O,Nxf7,Qxf7,Qa4,a6,Bf4,Nd5,Bg3,h5,Qa5,g5,c4,Nf4,Qe5,Qf5,Qe3,Rxd4,Re1,Rd3,Qa7,e5,Qa8+,Kc7,Qh8,e4,Qg7+,Rd7,Qc3,h4,Bh2,Kc8,Qe3,Re7,Qa7,Qe6,g3,Nxh3+,Kg2,g4,gxh4,e3,Qa8+,Kd7,Qxb7+,Ke8,Qb8+,Kf7,Rxe3,Qf6,Rxe7+,Kxe7,Qc7+,Kf8,Bd6+,Kg8,Qb8+,Kh7,Bg3,Qf3+,Kf1', 'Qd1+,Kg2,Qg1#', 'https://lichess.org/training/vtskl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTssr', 'Rapid', 'StelarasPN', 1637, 'alexandrmr', 1601, 'e4,e5,Nf3,d6,Bc4,Nf6,d3,Bg4,Nc3,c6,b4,Nbd7,b5,Qa5,Bd2,Qa3,bxc6,bxc6,O-O,Qc5,h3,Bxh3,gxh3,d5,Be3,d4,Na4,Qa5,Bxd4,exd4,Nb2,Rb8,Qc1,Ba3,Bb3,g5,Nc4,Bxc1,Nxa5,Bf4,Nxc6,Rb6,Ncxd4,Rg8,Nf5,g4,Bxf7+,Kxf7,Nh6+,Kf8,Nxg8,Kxg8,hxg4,Nxg4,Rab1,Rg6,Nh4,Rg5,f3', 'Ne3+,Kf2,Nxf1', 'https://lichess.org/training/VTssr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vttpS', 'Rapid', 'Atropos7', 1783, 'BrazilianGiant', 1944, 'd4,d5,c4,c6,Nf3,Bf5,Nc3,e6,Bf4,Bd6,Bxd6,Qxd6,c5,Qc7,e3,Nf6,Ne5,Nbd7,Nxd7,Nxd7,Be2,b6,b4,bxc5,bxc5,Qa5,Qd2,Rb8,O-O,O-O,Bd3,Nf6,Bxf5,exf5,Rab1,Ne4', 'Nxe4,Qxd2,Nxd2', 'https://lichess.org/training/vttpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vTU79', 'Rapid', 'snow65', 2196, 'ga64', 2136, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Bd7,b4,cxd4,cxd4,Nh6,Nc3,Nf5,Na4,Qc7,Bb2,Be7,Bd3,a6,Rc1,O-O,Qc2,f6,g4,Nh6,Bxh7+,Kh8,Nh4,Be8,Ng6+,Bxg6,Qxg6,Nxg4,Qxg4,Kxh7,Qxe6,fxe5,dxe5,Rae8,Rg1', 'Bxb4+,axb4,Rxe6', 'https://lichess.org/training/vTU79');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vTUx5', 'Classical', 'ser04-78', 1832, 'songxialone', 1658, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,g6,O-O,Bg7,c3,O-O,Be3,Ng4,Nd2,Nxe3,fxe3,Nd7,N2f3,Nc5,Qc2,Bg4,b4,Nxd3,Qxd3,Bxf3,Rxf3,a6,c4,e6,Raf1,Qb6,a3,Rac8,Nb3,Bb2,Nd4,Qc7,R1f2,Bxd4,exd4,Qxc4,Rd2,Qxd3,Rdxd3,Rc1+,Kf2,Rfc8,Kg3,R8c2,h4,Rg1,Rf2,Rcc1,Kg4,Rce1,Kf4,d5,exd5,exd5,Re3,Rxe3,Kxe3,Re1+,Re2,Ra1,Kf4,Rxa3,Ke5,Ra4,Rb2,a5,bxa5,Rxa5,Rxb7,f5,Rd7,Ra2,g3,Ra3,Kf6,Ra6+,Kg5,Ra3,g4,h6+', 'Kxg6,Ra6+,Kxf5', 'https://lichess.org/training/vTUx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VTXta', 'Classical', 'Dinesh_18', 2050, 'strategicomplexity', 2098, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bf4,a6,Nf3,Nc6,e3,b5,a3,Bg4,h3,Bh5,Be2,e6,O-O,Bd6,Bxd6,Qxd6,Rc1,O-O,Nh2,Bg6,Bd3,Ne4,Nxe4,dxe4,Bb1,Rfd8,f3,exf3,Bxg6,hxg6', 'Qxf3,Ne7,Qxf7+', 'https://lichess.org/training/VTXta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VtXYO', 'Rapid', 'valter48', 1879, 'ilcho', 1934, 'c4,e5,a3,Qf6,Nc3,c6,g3,Bc5,Ne4,Qe7,Nf3,d6,b4,Bd4,Nxd4,exd4,Bg2,Bf5,d3,Bxe4,Bxe4,Nf6,Bg2,h6,O-O,O-O,Re1,Nbd7,e4,dxe3,Bxe3,Qd8,d4,d5,c5,Re8,Qb3,Ne4,Bxe4,Rxe4,Rad1,Qf6,Qb2,Qg6,f3,Ree8,Bf4,Nf6,Rxe8+,Rxe8,Qd2,Nh5,Re1', 'Rxe1+,Qxe1,Nxf4', 'https://lichess.org/training/VtXYO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vtzI2', 'Rapid', 'The_Warrior_Of_LIGHT', 1784, 'NaotoMatsui', 1958, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,d6,h3,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Be3,Nc6,Nc3,Bb4,O-O-O+,Ke7,Nb5,Be6,Nxc7,Bxc4,Nxa8,Rxa8,a3,Ba5,Bc5+,Ke8,e4,Bb3,Rd3,Be6,b4,Bd8,Rg3,Rc8,Rxg7,b6,Rg8+,Kd7,Be3', 'Ne7+,Kb2,Nxg8', 'https://lichess.org/training/vtzI2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vTZST', 'Rapid', 'CJR98', 1953, 'AVR11', 1842, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Be2,Ne7,O-O,O-O,Be3,Bf5,c3,Nd7,Bd3,c6,Qc2,Bxd3,Qxd3,Ng6,Re1,Re8,Nbd2,Nf6,Bg5,Be7,Re2,h6,Be3,Ng4,h3,Nxe3,Rxe3,Bd6,Rxe8+,Qxe8,Re1,Qd7,c4,Bf4,cxd5,Qxd5,b3,Bxd2,Qxd2,Qd7,Qe3,Kf8,Qd3,Re8,Rxe8+,Qxe8,Kf1,Qd7,Qe4,Ne7,Ne5,Qe6,f4,f6', 'Ng6+,Nxg6,Qxe6', 'https://lichess.org/training/vTZST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vu3cW', 'Rapid', 'Roman_Medvedev', 1646, 'sajidlalu', 1681, 'e4,d5,exd5,Qxd5,Qf3,Qxf3,Nxf3,c6,Be2,Bg4,d3,e6,h3,Bh5,g4,Bg6,h4,h6,h5,Bh7,Be3,Be7,Nbd2,Nd7,c3,Ngf6,Nh4,Nd5,Nf1,Bxh4,Rxh4,Nxe3,Nxe3,O-O-O,Nc4,Kb8,Nd6,Rdf8,b4,f5,a4,fxg4,Rxg4,Bf5,Rxg7,Rhg8,Rxd7,Rg1+,Bf1,Bxd3,Rxb7+,Ka8,Rc7', 'Rxf1+,Kd2,Rxa1', 'https://lichess.org/training/Vu3cW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vU3mq', 'Rapid', 'Honeybadger123', 1670, 'hknod', 1692, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qf5,f3,e6,e4,Qa5,Bd2,Bb4,a3,Bxc3,Bxc3,Qb6,Bd3,O-O,Ne2,Rd8,O-O,c5,dxc5,Qxc5+,Kh1,Nc6,Rc1,Qe7,Qc2,e5,Rfd1,Be6,f4,Ng4,Kg1,Qh4,h3,Ne3,Qd2,exf4,Nxf4,Qxf4,Re1,Qg3,Qxe3', 'Rxd3,Qxg3,Rxg3', 'https://lichess.org/training/vU3mq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vu52h', 'Blitz', 'FM SpeedMonkey', 2417, 'FM ly4o', 2550, 'e4,c5,Nc3,g6,h4,h5,d4,Bg7,dxc5,Qa5,Bd2,Qxc5,Nd5,Bxb2,Bb4,Qxb4+', 'Nxb4,Bc3+,Ke2', 'https://lichess.org/training/vu52h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vu5FQ', 'Rapid', 'ostadreza', 1960, 'yld', 2232, 'e4,c6,Nf3,d5,d4,dxe4,Ng5,Bf5,Nc3,Nf6,Bc4,e6,O-O,h6,Nh3,Bxh3,gxh3,Qa5,Bd2,Qf5,Re1,Qxh3,Nxe4,Nbd7,Bf4,Qf5,Nd6+,Bxd6,Bxd6,Ne4,Bg3,h5,Bd3,Ndf6,f3,h4,fxe4,Qg5,Qc1,Qg4,Be2,Qg6,e5,hxg3,exf6,gxh2+,Kh1', 'Qe4+,Bf3,Qxf3#', 'https://lichess.org/training/vu5FQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vU7DH', 'Rapid', 'arwed_grey', 1846, 'iopas98', 1835, 'e4,e6,d4,d5,Nc3,Be7,Nf3,Nf6,e5,Nfd7,Be3,c5,Qd2,Nc6,O-O-O,c4,h4,Qa5,Kb1,Bb4,g4,Nb6,a3,Bxa3,bxa3,Qxa3,Nb5,Qa4,Nc7+,Kd8,Nxa8,Nb4,Qc3,Nxa8,Nd2,Qb5,Nb3,Nb6,Nc5,Na4,Nxa4,Qxa4,Bg5+,Kc7,Bxc4,dxc4,Qxc4+,Kb8,Kc1', 'Na2+,Qxa2,Qxa2', 'https://lichess.org/training/vU7DH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vu7Za', 'Classical', 'bsalman', 1607, 'CabezadePomo', 1631, 'd4,d5,c4,e6,cxd5,exd5,Nf3,Bb4+,Bd2,c5,Bxb4,cxb4,e3,Nc6,Bb5,Ne7,Qb3,O-O,Bxc6,Nxc6,Ne5,a5,Nxc6,bxc6,O-O,Qg5,Qd1,Bh3,Qf3,Bg4,Qg3,f5,f3,f4,Qxg4,Qxg4,fxg4,fxe3,Rxf8+,Rxf8,h3,Rf4,g5,Rxd4,Kf1,Rd1+,Ke2,Rg1,Kxe3,Rxg2,Nd2,Rg3+,Kf4,Rxh3,Rc1,Rd3,Nf3,b3,axb3,Rxb3,Rxc6,Rxb2,Rc5,Rb4+,Ke5,a4,Rxd5,a3,Rd1,Rb5+,Kf4,Kf7,Ra1,Rb3,Nd4,Rb4,Ke4,Kg6,Rxa3,Kxg5,Rg3+,Kf6,Kd5,g5,Ne6,Rb5+,Kd6,Rb6+,Kd5', 'Rxe6,Rf3+,Ke7', 'https://lichess.org/training/vu7Za');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vU83y', 'Rapid', 'HannibalsTea', 1799, 'besyo', 1621, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,c6,e3,Bb4,Qc2,Ne4,Nd2,Nxc3,bxc3,Ba5,e4,O-O,Bd3,g6,O-O,a6,e5,b5,Nb3,bxc4,Nxa5,cxd3,Qxd3,Qxa5,Bh6,Rd8,Qf3,Nd7,h4,c5,h5,cxd4,hxg6,fxg6,cxd4,Qb6,Rab1,Qxd4,Rfd1,Qxe5,Re1,Qf5,Qa3,Nf6', 'Qe7,Ne8,Qxd8', 'https://lichess.org/training/vU83y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vuaAJ', 'Classical', 'hamed1234', 1674, 'sasha1972', 1716, 'e4,e5,Qf3,Nf6,d3,d5,exd5,Qxd5,Nc3,Qxf3,Nxf3,Nc6,Nd5,Nxd5,c4,Ndb4,Kd1,Bg4,a3,Bxf3+,gxf3,Na6,b4,Nd4,Bg2,Nb3,Rb1,Nxc1,Kxc1,c6,b5,Bxa3+,Kc2,Nc7,bxc6,b6,Rhe1,f6,f4,O-O,fxe5,fxe5,Rxe5,Rxf2+,Kb3,Rxg2,Kxa3,Rxh2,Re7,Ne8,Rbe1,Kf8,Rb7,Nd6,Rf1+,Kg8,Rd7,Rh6,c7,Re6', 'Rd8+,Re8,Rxd6', 'https://lichess.org/training/vuaAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUBST', 'Rapid', 'Ich610', 1917, 'Alshalbi', 1913, 'd4,d5,Nf3,Bf5,Bf4,c6,b3,Nd7,e3,e6,Bd3,Bg4,h3,Bxf3,Qxf3,Ngf6,O-O,Bb4,a3,Be7,b4,O-O,Nd2,b5,Rfe1,Nb6,Nb3,Nc4,Bxc4,bxc4,Nd2,a5,c3,axb4,axb4,Bd6', 'Rxa8,Qxa8,Bxd6', 'https://lichess.org/training/VUBST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUBUb', 'Classical', 'CM Pyphax', 2480, 'Palych', 1915, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,cxd4,cxd4,Nc6,Bd3,Bb4+,Bd2,Qa5,a3,Bc3,Bxc3,Qxc3+,Ke2,O-O,e5,g6,Be4,Bd7,Qd3,Qb2+,Qd2,Qb6,Rhb1,Qc7,Qh6,Nxd4+,Nxd4,Qxe5,Qe3,Rad8,Bxb7,Qxh2,Rh1,Qd6,Qh6,Qe5+,Qe3', 'Bb5+,Nxb5,Qxb5+', 'https://lichess.org/training/VUBUb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUcaF', 'Rapid', 'StanisLav1972', 1880, 'chessperson', 1927, 'b3,f5,Bb2,Nf6,c4,b6,f4,Bb7,Nf3,e6,Nc3,Be7,d3,O-O,Qc2,Ng4,h3,Ne3,Qd2', 'Bh4+,Nxh4,Qxh4+,g3,Qxg3#', 'https://lichess.org/training/VUcaF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VuCLo', 'Classical', 'Vijayemandi', 1821, 'Axel_Tuyub', 1933, 'd4,f5,c4,Nf6,Nc3,b6,Nf3,Bb7,Bf4,e6,d5,Bb4,Bg5,O-O,e3,exd5,cxd5,Bxd5', 'Bxf6,Qxf6,Qxd5+', 'https://lichess.org/training/VuCLo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vUfTg', 'Rapid', 'proftogara', 1740, 'choukri86', 1721, 'c4,b6,d4,Bb7,Nc3,d5,e4,dxe4,Be3,Nf6,d5,e6,Bg5,exd5,cxd5,Bb4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/vUfTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vUI4T', 'Rapid', 'analimari', 1785, 'arasanpune', 2064, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be3,Be7,Bb5+,Nbd7,O-O,O-O,f3,a6,Bd3,Qc7,Bf2,b5,a3,Bb7,Rc1,Rac8,Nce2,Nb6,b3,Rfd8,c4,bxc4,Bxc4,Nxc4,Rxc4,Qb8,Rxc8,Rxc8,Qd2,d5,exd5,Nxd5,Rc1,Bxa3,Rxc8+,Qxc8,Qa5,Bb4,Qa1,Nc3,Nxc3,Qxc3,Qd1,Bd5,h3,h6,Kf1,a5,Be1,Qc5,Bxb4,axb4,Qd3,Qc3,Ke2,Qb2+,Kf1,e5,Nf5,Be6', 'Ne7+,Kh8,Qd8+,Kh7,Qg8#', 'https://lichess.org/training/vUI4T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vui5w', 'Blitz', 'Jeeb1710', 1761, 'bodensmate', 1710, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,h3,c5,dxc5,Bxc5,Bd3,Nc6,O-O,O-O,Bg5,Be6,Nc3,Nb4,Bb5,a6,Ba4,b5,Bb3,Nc6,Nxd5,Bxd5,Bxd5', 'Qxd5,Bxf6,Qxd1,Rfxd1,gxf6', 'https://lichess.org/training/Vui5w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vuiBT', 'Rapid', 'Alkun57', 2003, 'Oklap', 2055, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,c5,Bd3,Nc6,Nf3,Bxc3+,bxc3,d6,e4,e5,d5,Ne7,h3,h6,O-O,O-O,a4,a5,Nh4,Ng6,Nxg6,fxg6,f4,Qe7,fxe5,dxe5,Qe1,Bd7,Qg3,g5,Be3,b6,Bc2,Nh5,Qe1,Nf4,Qd1,Rf6,Rb1,Raf8,Bxf4,gxf4,Qe2,Rg6,Rf3,Rgf6,Rbf1,g5,R3f2,Qf7,Bd1,Qe8,Kh2,Qg6,Qf3,Be8,h4,Bd7,h5,Qg7,g4,fxg3+,Qxg3,Rf4,Rxf4,gxf4,Qxg7+,Kxg7,Rg1+,Kh7,Rg6,f3,Rd6,f2', 'Rxd7+,Kg8,Be2,f1=Q,Bxf1', 'https://lichess.org/training/vuiBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VuIeB', 'Blitz', 'FM PJatoba', 2335, 'RFNUNEZ', 2335, 'Nf3,Nf6,g3,g6,c4,Bg7,d4,O-O,Bg2,d5,cxd5,Nxd5,O-O,Nc6,e4,Nb6,d5,Ne5,Nxe5,Bxe5,Nc3,c6,Bh6,Re8,dxc6,bxc6,Qc2,Be6,Rad1,Qc8,f4,Bh8,b3,Bg4,Rd3,c5,e5,Rb8,Ne4,c4,Rc3,cxb3,Rxc8,bxc2,Rxc2,Bf5,Rc7,a5,Bg5,Nd5,Rc5,Ne3,Re1,Nxg2,Kxg2,Rb2+,Kf3,Rxa2,Rec1,Ra3+,R1c3,Rxc3+,Nxc3,f6,exf6,exf6,Bh6,Bg7,Bxg7,Kxg7,Rxa5,h5,Ra7+,Kh6,Kf2,Rc8,Nd5,Rc2+,Ke3,Rxh2,Nxf6,g5,Ra6,gxf4+,Kxf4,Bg6,g4,h4,g5+,Kg7,Ra7+,Kf8,Ng4,Rb2,Ne5,Rb4+,Kf3,Bf5', 'Rf7+,Kg8,Rxf5', 'https://lichess.org/training/VuIeB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vuIrx', 'Rapid', 'ScHlAuPeLz', 1787, 'marwaha', 1769, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Ne6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,Nf6,O-O,O-O,e5,Nh5,d5,Nef4,Ne4,d6,g3,Nh3+,Kg2,Bg4,Be2,dxe5,Nxe5,Bxe2,Qxe2,Ng5,Nxg5,Qxg5,f4,Qf5,g4,Nxf4+,Kh1,Nxe2,Rxf5,g6,Rf2,Nd4,Rd1,Nb5,Rc1,Rae8', 'Nd7,Re7,Nxf8', 'https://lichess.org/training/vuIrx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vUj2z', 'Rapid', 'Tangelo777', 1891, 'Sipontino', 1895, 'd4,d5,Nf3,e6,Bf4,Nf6,g3,Bd6,Bd2,O-O,Bg2,b6,c4,dxc4,Ne5,Bxe5,dxe5,Nd5,Nc3,c6,Nxd5,cxd5,O-O,Bb7,f4,Nc6,b3,cxb3,axb3,Nd4,e3,Nf5,Re1,Qd7,Bb4,Rfc8,e4,Ne7,Bxe7,Qxe7,exd5,Qc5+,Kf1,Bxd5,Bxd5,exd5,e6,fxe6,Rxe6,d4,Re5,Qc3,Rd5,Qc2', 'Rd8+,Rxd8,Qxc2', 'https://lichess.org/training/vUj2z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vuJfD', 'Rapid', 'josalmo', 1601, 'terrys', 1687, 'd4,d5,Bf4,Bf5,e3,Nf6,h3,c6,c4,e6,a3,Bd6,Bxd6,Qxd6,c5,Qc7,Nc3,Nbd7,Bd3,Bxd3,Qxd3,b6,b4,bxc5,bxc5,O-O,Nf3,h6,O-O,Rfe8,Na4,e5,dxe5,Nxe5,Nxe5,Qxe5,Rab1,Ne4,Rb4,Qe7,Rfb1,Nxc5,Nxc5,Qxc5,Rb7,Qd6,Qf5,Rab8', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/vuJfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VuJK2', 'Rapid', 'IlikeMinecraft', 1801, 'promatti', 1819, 'e4,c5,Nc3,d6,f4,Nf6,Nf3,g6,Bb5+,Nc6,d3,Bg7,O-O,O-O,Bxc6,bxc6,Qe1,Rb8,Qh4,Bg4,Ng5,h6,Nh3,Bxh3,Qxh3,Nh5,f5,e5,fxg6,fxg6,Qe6+,Kh7,Rxf8,Qxf8,b3,Rb7,Be3,Rf7,Rd1,Nf4,Bxf4,Rxf4,Qd7,Rf7,Qxc6,Qe7,Nd5,Qg5,Qxd6,Qg4,Re1,Qg5,Qxc5,Qd2,Qc3', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/VuJK2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VuK6Y', 'Rapid', 'B25270', 1648, 'Qoeidas', 1773, 'e4,e6,d4,d5,e5,Ne7,Nf3,c5,c3,Nbc6,a4,a6,Bg5,h6,Bf4,Ng6,Be3,Qb6,Bc1,cxd4,cxd4,Bb4+,Nc3,f6,Bd3,f5,O-O,Nxd4,Be3,Nxf3+,Qxf3,Qc7,Rac1,Qf7,Bb6,Nxe5,Qe3,Nxd3,Qxd3,Bxc3,Rxc3,O-O,Rc7,Qf6,Bd4,e5,Bc5,Rd8', 'Be7,Qe6,Bxd8', 'https://lichess.org/training/VuK6Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VuKEp', 'Rapid', 'ila_59', 2073, 'AdamHat', 2055, 'c4,c6,Nc3,d5,d4,Nf6,e3,e6,Nf3,Nbd7,Ne5,Nxe5,dxe5,Nd7,f4,Bc5,a3,a6,Bd3,b5,cxd5,cxd5,b4,Ba7,a4,Qc7,Ne2,bxa4,Qxa4,O-O,O-O,Bb6,Bd2,Qa7,Rf3,d4,Nxd4,Bxd4,exd4,Qxd4+,Kh1,Bb7,Bc3,Qxc3', 'Bxh7+,Kxh7,Rxc3', 'https://lichess.org/training/VuKEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VukzZ', 'Rapid', 'ajfirecracker', 1942, 'SionAlexander', 1940, 'Nc3,d5,d4,Bf5,Bf4,e6,Nb5,Bd6,Nxd6+,cxd6,e3,a6,Nf3,Nh6,h3,Nc6,Be2,Nb4,c3,Nc2+,Kf1,Nxa1,Qxa1,f6,Qc1,g5,Bh2,Nf7,g4,Bg6,h4,h6,Bg3,e5,hxg5,hxg5,Rxh8+,Nxh8,Qd1,Qd7,c4,dxc4,Bxc4,Qxg4,dxe5,fxe5,Be2,Qe6,Nxg5,Qf6,Bh4,Nf7', 'Qa4+,b5,Bxb5+', 'https://lichess.org/training/VukzZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VuleO', 'Rapid', 'ricabatista', 1858, 'Zhong_Acheng', 1888, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,Nf6,Re1,Ne5,Bxd7+,Nexd7,e5,dxe5,Nf3,Bd6,Nxe5,O-O,Nxd7,Qxd7,Bg5,Qf5,Qd2,Ne4,Qe3,Nxg5,Nc3,h6,Rad1,Qxc2,Rd2,Qf5,Nd5,Rfe8,Qxe8+,Rxe8,Rxe8+,Bf8', 'Ne7+,Kh7,Nxf5', 'https://lichess.org/training/VuleO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vUmvA', 'Blitz', 'Mateengine', 2202, 'ShmitHappens', 1713, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Bxc6,Bxc6,d5,Bd7,c4,Nf6,Nc3,Bg4,h3,Bh5,Be3,c5,Qb3,Qb6,Qa4+,Nd7,Bd2,Be7,a3,Rd8,Rb1,O-O,g4,Bg6,Be3,Nf6,Nd2,a5,f3,Ra8,Nb5,Rfc8,Qd1,a4,Kf2,h6,h4,Nh7,h5,Ng5,hxg6,fxg6,Qe2,Kh7,Rh2,Rf8,Bxg5,Bxg5,Rbh1,Rf7,Kg2,Raf8,Qe1,Bxd2,Qxd2,Rxf3,Rxh6+,gxh6', 'Qxh6+,Kg8,Qxg6#', 'https://lichess.org/training/vUmvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUn45', 'Rapid', 'sslmcm', 1764, 'profesorcaos', 1797, 'd4,f5,c4,Nf6,Nc3,c6,Bg5,e6,e4,Be7,exf5,exf5,Nf3,d5,cxd5,cxd5,Qe2,O-O,O-O-O,a6,g3,b5,Bh3,b4,Na4,Nc6,Kb1,a5,Rc1,Ba6,Qe6+,Kh8,Rxc6,Bb5,Ne5,Bxa4,Nf7+', 'Rxf7,Qxf7,Bxc6', 'https://lichess.org/training/VUn45');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VunC8', 'Rapid', 'Anasbrsy', 2090, 'Niyazmv', 2224, 'e4,d6,Nc3,Nf6,Bc4,g6,d3,Bg7,Bg5,O-O,Nf3,c6,h3,Nbd7,O-O,a5,a3,b5,Bb3,Nc5,Ba2,b4,axb4,axb4,Bxf7+,Rxf7,Rxa8,bxc3,bxc3,Qc7,Qa1,h6,Be3,Kh7,Bxc5,dxc5,Ra7,Qf4,Nh2,Nh5,Ra3,Be5,Nf3,Bc7,Qc1,Qxf3,gxf3,Bxh3,Re1,Bf4,Qd1,Rf6,Qb1,Be5,Qb7,Rxf3,Qxe7+,Bg7,Qxc5,Rf4,Ra7,Rg4+,Kh2,Rg2+,Kxh3', 'Nf4+,Kh4,g5+,Qxg5,hxg5#', 'https://lichess.org/training/VunC8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUoGP', 'Rapid', 'Tilus', 1601, 'osquizz', 1709, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,O-O,Nf6,h3,Bxf3,Qxf3,Be7,d3,Nd4,Qf2,O-O,c3,Nc6,fxe5,Nxe5,Bd5,Nxd5,exd5,Nxd3,Qd4,Nxc1,Rxc1,Bf6,Qd3,Re8,Nd2,Qe7,Re1,Qxe1+,Rxe1,Rxe1+,Nf1,Ree8,Qb5,Rab8,Ng3,a6,Qd7,Re7,Qg4,Ree8,Nh5,Be5,Kf1,g6,Ng3,f5,Qg5,Bxg3,Qxg3,Re5,Qf3,Rbe8,Kf2,Re4,c4,Rxc4,Qb3,b5,Qa3,Ra4,Qc3,Rxa2,Qc2,Rc8,Qb3,Ra4,Qc2,Re4,Qc6,Ra4,Qd7,Rf8,Qxc7,Rb4,Qc3,a5,Kf3,Re8,Kg3,Rf8,Kh2,Rf7,Qc8+,Rf8,Qe6+,Kg7,Qxd6,Rxb2', 'Qe5+,Kg8,Qxb2', 'https://lichess.org/training/VUoGP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUoS9', 'Rapid', 'Gtnh', 1847, 'mehmet22', 1923, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c4,Nf6,Bd3,e6,O-O,Bd6,Nc3,O-O,Bg5,Re8,cxd5,exd5,Nxd5,Bxh2+,Nxh2,Qxd5,Bxf6,gxf6,Ng4,Qxd4,Bxh7+,Kxh7,Qxd4,Nxd4,Nxf6+,Kg6,Nxe8,Bf5,Nd6,b6,Nxf5', 'Ne2+,Kh1,Rh8+,Nh6,Rxh6#', 'https://lichess.org/training/VUoS9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vUqjT', 'Rapid', 'Subversio', 1753, 'bpartha', 1719, 'e4,e5,Nc3,c6,Bc4,Nf6,d3,d5,exd5,cxd5,Bb3,Bb4,Ne2,d4,a3,Ba5,O-O,dxc3,bxc3,O-O,Bb2,Nc6,Ng3,Bg4,f3,Bb6+,Kh1,Be6,Ne4,Nxe4,fxe4,Bxb3,cxb3,Bc7,Rf3,Qh4,Rg3,Rad8,Rh3,Qf6,Qh5,h6,Rf3,Qe6,Raf1,Qxb3,Bc1,Qxc3,Bxh6,Rd6,Bxg7,Kxg7,Rg3+,Rg6,Rh3,Rg8', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/vUqjT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUrmh', 'Blitz', 'kingNabeul', 2052, 'IM Aronian1111', 2442, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,Bc4,Bb4,O-O,O-O,Bg5,h6,Bxf6,Qxf6,a3,Bxc3,bxc3,d6,f4,exf4,Qd4,Qxd4+,cxd4,g5,h4,Be6,Bd3,Kg7,Kf2,f5,Rab1,Rab8,exf5,Bxf5', 'Rxb8,Rxb8,Bxf5', 'https://lichess.org/training/VUrmh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vUrX0', 'Rapid', 'lau3', 1974, 'sagitarioblues', 2136, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,f6,d4,exd4,Nxd4,c5,Nb3,Qxd1,Rxd1,Bd7,Bf4,O-O-O,a4,Ne7,Nc3,Ng6,Bg3,h5,Nd5,Bd6,Bxd6,cxd6,Nd2,Rhe8,f3,Ne5,b4,Bc6,c4,Bxd5,cxd5,Kd7,bxc5,dxc5,Rab1,Rb8,a5,Rec8,Rdc1,c4,f4,Nd3,Rxc4,Rxc4,Nxc4,Nxf4,g3,Ne2+,Kf2,Nc3,Re1,Re8,Kf3,Nb5,Kf4,Nd6,Nb6+,Kd8,h4,g5+,hxg5,fxg5+,Kf3,Rf8+,Ke3,g4,e5,Rf3+,Kd4,Nf5+,Kc5,Rc3+,Kb4,Rxg3,d6,Nd4', 'e6,Nxe6,Rxe6', 'https://lichess.org/training/vUrX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUs5v', 'Blitz', 'a_ivanych', 1921, 'Leon-Cavallo', 1964, 'e4,Nc6,Nf3,f5,exf5,d5,d4,Bxf5,c3,Nf6,h3,h6,Bb5,a6,Bxc6+,bxc6,Ne5,Qd6,Qa4,Bd7,Bf4,c5,Nxd7,Qxd7,Qxd7+,Kxd7,dxc5,g5,Be3,e5,Nd2,c6,O-O,Rb8,Nb3,Bg7,Rad1,Rhe8,f3,Nh5,g4,Nf4,Kh2,Ke6,Bxf4,gxf4,Rfe1,Bf6,c4,Bh4,Re2,Bg3+,Kg2,Rb4,Nd4+,Kd7,Nf5,Rxc4,Nxg3,fxg3,Rde1,e4,Kxg3,h5,fxe4,d4,Rd1,Ke6,g5,Ke5,Red2,Rd8,Kh4,Rxc5,Kxh5,Kf4,Rxd4', 'Rxg5+,Kh6,Rh8#', 'https://lichess.org/training/VUs5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vuSHh', 'Rapid', 'round_runner', 2357, 'vodafone', 2073, 'Nf3,c5,b3,Nc6,Bb2,d5,e3,Bf5,Bb5,e6,Ne5,Qc7,Nxc6,bxc6,Ba4,Nf6,Bxf6,gxf6,c4,d4,Qf3,Kd7,g4,Bg6,Qxf6,Rg8,exd4,Bg7,Qf3,cxd4,d3,Rac8,O-O,f5,gxf5,Bxf5,Kh1,Be5,b4,Bxh2,b5,cxb5,Bxb5+,Ke7,Nd2,Bg4,Qe4,Bf4,Nf3,Bxf3+,Qxf3,Rcf8,Qh3,h6,Rae1,e5,Re4,Qb7,Qf3,Kd6', 'Rxd4+,exd4,Qxb7', 'https://lichess.org/training/vuSHh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vuslw', 'Rapid', 'AbRoR94', 1720, 'Egor_mol', 1671, 'e4,e5,Nf3,Nc6,d4,exd4,Ng5,Nh6,Bc4,Ne5,Bb3,Bd6,f4,Ng6,e5,Be7,O-O,O-O,Nf3,Bc5,Kh1,Ng4,Nxd4,Qh4,h3,Nf2+,Rxf2,Qxf2,Nf3,Nh4,Nxh4,Qxh4,Bd2,d6,Qf3,Bg4', 'Qxg4,Qxg4,hxg4', 'https://lichess.org/training/Vuslw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUTsv', 'Blitz', 'sterre', 2405, 'IM stvngrnrt', 2410, 'e4,e5,Nc3,Nf6,f4,d5,fxe5,Nxe4,Nf3,Be7,Qe2,Bf5,d3,Nxc3,bxc3,O-O,g3,Nc6,Bg2,d4,c4,Bb4+,Bd2,Bg4,O-O,Bxf3,Bxf3,Bxd2,Qxd2,Nxe5,Bxb7,Rb8,Be4,Qd7,Rf5', 'Qxf5,Bxf5,Nf3+,Kg2,Nxd2', 'https://lichess.org/training/VUTsv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUTun', 'Rapid', 'dado-dice', 1692, 'Ratogiro', 1656, 'e4,e5,f4,Nc6,Nf3,exf4,Nc3,Nf6,d4,Qe7,Bd3,Ng4,O-O,Ne3,Bxe3,fxe3,Re1,d6,Rxe3,Bg4,Bb5,O-O-O,d5,Nd4,Qxd4,Bxf3,Rxf3,c5,Qa4,Kb8,Ne2,g6,Ra3,b6,Ng3,Bg7,Rb1,Rhf8,b4,Bd4+,Kh1,cxb4,Rxb4,Bc5,h3,Bxb4,Qxb4,f5,Qa4,fxe4,Nxe4,Rf4,Bd3,Rc8,g3,Rf5,Kg2,Rxd5,Nf6,Rxd3,Nd7+,Qxd7,Qxd7', 'Rxc2+,Kf1,Rd1#', 'https://lichess.org/training/VUTun');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUudd', 'Rapid', 'VaccaStulta', 1765, 'knightfav', 1753, 'e4,e5,Nf3,Nc6,b3,Bc5,Bb2,d6,d4,exd4,Bxd4,Bg4,Bxg7,f6,Bxh8,Qe7,Nbd2,O-O-O,Be2,Nh6,Bxf6,Qxf6,O-O,Bxf3,Bxf3,Bd4,Rb1,Rg8,Nc4,Ne5,Nxe5,Bxe5,c4,Nf7,b4,Ng5,Rb3,Qh6,Bg4+,Kb8,Bh3', 'Nxh3+,Rxh3,Qxh3', 'https://lichess.org/training/VUudd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vUVZC', 'Rapid', 'Ozymad1as', 1510, 'luisalfre', 1617, 'd4,e6,Nc3,d5,Bf4,Bb4,e3,a6,Bd3,c5,dxc5,Bxc5,Nf3,Nc6,a3,Nf6,O-O,O-O,b4,Ba7,Bg3,Re8,Re1,e5,e4,dxe4,Nxe4,Bg4,h3,Bxf3,Qxf3,Nxe4,Qxe4,g6,Rad1,Bd4,Kh1,Qf6,Qf3,Qxf3,gxf3,Bc3,Re3,Rad8,Kg1,f5', 'Bc4+,Kf8,Rxd8,Rxd8,Rxc3', 'https://lichess.org/training/vUVZC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUxQz', 'Blitz', 'Lol0138', 1694, 'Tsuk', 1746, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nxf7,Qxf7,b3,Be7,Bc4,Be6,d5,Bg4,f3,Bh5,g4,Bg6,O-O,Nbd7,Bb2,O-O,Nd2,h6,h4,h5,g5,Ne8,f4,Nb6,Bd3,Nxd5,exd5,Bxd3,cxd3,Qxd5,Ne4,Qe6,Qxh5,Qh3,Rf3,Qf5,Raf1,d5,Ng3,Qe6,g6,Nf6,Bxf6,Rxf6,Qh7+,Kf8,Nh5,Rxg6+,Kh2,Bxh4,f5,Qe5+,Kh3,Rh6,Qxg7+,Qxg7,Nxg7,Kxg7,Rg1+,Kf7,Rg6,Rxg6,fxg6+,Kxg6,Kxh4,Rh8+,Kg4,Rh7,Kf4,c6,Ke5,Kg5,Kd6,a6,Kc5,Kg4,Rf1,Re7,Kb6,Kg3,a4,Kg2,Rf8,Rh7,Rb8,Kf3,Rxb7,Rxb7+,Kxb7,Ke3,Kxc6,Kxd3,Kxd5,Kc3,a5,Kxb3', 'Kc5,Ka4,Kb6,Kb4,Kxa6,Kc5,Kb7', 'https://lichess.org/training/VUxQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vuYlJ', 'Rapid', 'rajakings', 1795, 'coolio1223', 1709, 'e4,Nc6,d4,e5,d5,Nce7,Nc3,Ng6,Nf3,Bb4,Bc4,Bxc3+,bxc3,d6,O-O,Nf6,Re1,Nh5,Rb1,b6,Ba3,O-O,Nxe5,Nxe5,Qxh5,Bg4,Qxe5,dxe5,Rbd1,Re8,d6,cxd6,Rxd6,Qc7,Bb5,Red8,Rc6,Qxc6,Bxc6,Rac8,Bd5,Rxc3,Bb2,Rxc2,Bxe5,Be6,Bb7,Rxa2,h3,f6,Bg3,Rad2,Kh2,Rd1,Re3,R8d3,Re2,a5,Rb2,Rb3,Rc2,a4,e5,a3,exf6,gxf6,Re2,Kf7,f4,a2,Rxa2,Rxg3,Ra7,Rg7,Bf3+,Kg6,Rxg7+,Kxg7,Bxd1,b5,Bc2,b4,Bb1,b3,Kg3,f5,Kf3,Kf6,g4,b2,g5+,Ke7,h4', 'Bd5+,Ke3,Be4', 'https://lichess.org/training/vuYlJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VUYv7', 'Rapid', 'ruslanmormon', 1825, 'valosteel', 1750, 'f3,e5,g3,d5,Bg2,Nf6,e3,Bc5,Ne2,O-O,O-O,Bb6,b4,Bd7,a4,a6,Nbc3,c5,Ba3,cxb4,Bxb4,Re8,a5,Bc7,f4,exf4,exf4,Nc6,Bc5,Nxa5,Nxd5,Nxd5,Bxd5,Bc6,Bxc6,Nxc6,d3,b6,Bf2,b5,Nc3,Bb6,Ne4,f5,Ng5,h6,Nf3,Nd4,Nh4,Qf6,c3,g5,Ng2,Re2,cxd4,Rxf2,fxg5,Rxf1+,Qxf1,Bxd4+,Kh1,hxg5,Rc1,a5,Qf3,Qf8', 'Qd5+,Kh7,Qxd4', 'https://lichess.org/training/VUYv7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vUZbj', 'Rapid', 'JuditSassoon', 1796, 'DUNI', 1888, 'd4,d5,e4,dxe4,Nc3,Bf5,f3,exf3,Qxf3,Bc8,Bc4,e6,Be3,Be7,Nge2,Nf6,O-O-O,O-O,Bd3,c6,h4,Nbd7,g4,Nd5,Nxd5,exd5,g5,Nb6,Nf4,Nc4,Bd2,Qb6,Bc3,Bb4,Bxb4,Qxb4,Bxc4,dxc4,h5,a5,h6,g6,Qe3,Bf5,Qe5,f6,gxf6,Rae8', 'f7+,Rxf7,Qxe8+', 'https://lichess.org/training/vUZbj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vUZW4', 'Blitz', 'CARENI26', 1923, 'skoValone', 1923, 'd4,g6,b3,Bg7,Bb2,e6,Nf3,Ne7,Nc3,O-O,e4,d6,Bd3,Nd7,O-O,f5,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,f4,Bg7,Na4,Bxb2,Nxb2,Bd7,Bc4,Nc6,Qe2,Qf6,Rad1,Qxb2,Rxd7,Rad8,Bxe6+,Kh8,Rxd8,Rxd8,Bc4,Qf6,Rd1,Rxd1+,Qxd1,Nd4,c3,Ne6,Qd7,Nxf4,Qe8+,Kg7,Qg8+,Kh6,g3,Nh5,Kg2,Qxc3,Qf8+,Kg5', 'h4+,Kg4,Be2+,Qf3+,Bxf3#', 'https://lichess.org/training/vUZW4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vUZwg', 'Blitz', 'daddycool1959', 1776, 'Portablekitchen', 1739, 'd4,Nf6,e3,d5,Bd3,Bg4,f3,Bd7,Nd2,a6,c3,Bb5,Bxb5+,axb5,f4,e6,Ngf3,c5,O-O,Nc6,Ne5,Bd6,Qe2,c4,Qf3,O-O,g4,b4,g5,bxc3,bxc3,Nd7,Qg2,Ncxe5,fxe5,Be7,h4,Qa5,Bb2,Qb6,Rfb1,Qc7,e4,Nxe5,dxe5,Qxe5,Re1,Bc5+,Kh1,d4,cxd4,Bxd4,Bxd4,Qxd4,Nf3,Qd3,Qe2,Ra3,Qxd3,cxd3,Red1,Rd8,Kg2,f5,e5,g6,Rd2,Rc8,Rad1,Rc2,Kg3,Raxa2,Rxd3,Rg2+,Kf4', 'Rg4+,Ke3,Re4#', 'https://lichess.org/training/vUZwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vv16s', 'Rapid', 'Delcinho', 2017, 'mauzis', 1943, 'Nf3,Nf6,c4,g6,Nc3,Bg7,b3,O-O,Bb2,d6,g3,b6,Bg2,Bb7,O-O,Nbd7,d4,c5,Rc1,cxd4,Nxd4,Bxg2,Kxg2,a6,Rc2,Qc7,Qa1,Nc5,Nf3,a5,Nd5,Qd8,Rd1,Ne8,Nd4,Ra6,Nc6,Qa8,Ncxe7+,Kh8,f3,Qb7,Bxg7+,Nxg7,Rd4,Re8,Rh4,Rxe7,Nf6,h5,Qc1,Nf5,Qg5,Nxh4+,gxh4,Kg7,Nxh5+,Kf8', 'Qh6+,Ke8,Nf6+,Kd8,Qf8+', 'https://lichess.org/training/Vv16s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vv1Ug', 'Rapid', 'Alfiere20', 1730, 'Swat333', 1739, 'e4,d6,d4,e6,Nc3,b6,Nf3,Bb7,Bb5+,Nd7,d5,a6,Be2,Ne7,dxe6,fxe6,O-O,Ng6,Bc4,Qe7,Bg5,Qf7,h3,h6,Bh4,Be7,Bg3,h5,Bh2,h4,Ng5,Bxg5,Qg4,Bf6,Qxe6+,Qxe6,Bxe6,Bxc3,bxc3,Bxe4,Rfe1,Bxc2,Bd5+,Nde5,Bxa8,Kd7,Be4,Bxe4,Rxe4,Ne7,Rg4,Nxg4,hxg4,Nd5,c4,Nc3,g3,h3,f4,Rf8,Kf2,g5,Ke3,gxf4+,gxf4,b5,cxb5,Nxb5,a4,Na7,f5,Nc6,Rb1,Ne5,Bxe5,dxe5,Rd1+,Ke7,Rh1,Rh8,Ke4,Kf6,a5,c6,g5+,Kxg5,Kxe5,Kg4,f6,Re8+', 'Kd6,Kg3,f7,Rf8,Ke7', 'https://lichess.org/training/vv1Ug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vv27B', 'Blitz', 'jzslov', 2096, 'Mattakushi', 2059, 'd4,d5,Nf3,Nf6,Bf4,Nc6,e3,Bf5,c3,e6,Bd3,Bd6,Ne5,Ne4,O-O,f6,Nxc6,bxc6,f3,Ng5,Bxg5,fxg5,e4,dxe4,fxe4,Bg6,e5,Be7,Bxg6+,hxg6,Qd3,Kd7,Qxg6,Rb8,b3,c5,dxc5,Bxc5+,Kh1,Kc6,Qe4+,Qd5,Qa4+,Kb7,Na3,Qxe5,Qb5+,Kc8,Qa6+,Rb7,h3,Qg3,Qxe6+,Kb8,Nc4,g4,Rae1', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/Vv27B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vv5NZ', 'Rapid', 'momen96m', 1906, 'zvonkonikolic', 1849, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,d4,Nd7,dxe5,dxe5,Ng5,Qf6,Qg4,Nc5,b4,Nd7,Qxe6+,Qxe6,Nxe6,Rc8,Nc3,Bxb4,Bd2,Kf7,Ng5+,Kg6,h4,h6', 'h5+,Kf6,Nd5#', 'https://lichess.org/training/vv5NZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VVbIU', 'Blitz', 'Terry_26', 1620, 'LaoLin', 1667, 'e4,e5,Nf3,d6,Bc4,Nf6,d4,exd4,e5,dxe5,O-O,Bd6,Nxe5,Bxe5,Re1,Nc6,f4,O-O,fxe5,Ng4,e6,fxe6,Qxg4,Kh8,Bxe6,d3,cxd3,Nd4,Bxc8,Rxc8,Na3,a6,Bd2,c6,Bc3,c5,Rac1,Qf6,Bxd4,cxd4,Rxc8', 'Qf2+,Kh1,Qxe1#', 'https://lichess.org/training/VVbIU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VVCDc', 'Rapid', 'awoj123', 1833, 'Ghuntar', 1721, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,dxc5,d4,Ne4,Nc6,Nf3,Bg4,h3,Bxf3,Qxf3,Bxc5,Bc4,Nf6,O-O,Nxe4', 'Qxf7#', 'https://lichess.org/training/VVCDc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vvcsY', 'Rapid', 'jnikmaram', 1828, 'RupertMiles', 1938, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,Ne7,Nbd2,Nf5,Nb3,Ba4,O-O,c4,g4,Ne7,Ng5,h6,Nxf7,Kxf7,Qf3+,Ke8,Nc5,Bd7', 'Nxb7,Qb8,Nd6+', 'https://lichess.org/training/vvcsY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vvd5H', 'Blitz', 'm1003106', 1571, 'PadreAlessandro', 1874, 'e4,e6,Nc3,c5,Nf3,Nc6,d3,h6,d4,Nf6,d5,exd5,Nxd5,Nxe4,Qe2,f5,Nd2,Nd4', 'Qh5+,g6,Qxg6#', 'https://lichess.org/training/vvd5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vvdCt', 'Rapid', 'Djordjevic1', 1943, 'beby12', 1893, 'd4,f5,Bg5,h6,Bh4,g5,e3,e6', 'Qh5+,Ke7,Bxg5+,hxg5,Qxh8', 'https://lichess.org/training/vvdCt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VVEN2', 'Blitz', 'nalamothu', 1517, 'rebootl', 1651, 'e4,c5,Nf3,d6,Bb5+,Bd7,a4,Nc6,Nc3,a6,Bxc6,Bxc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,O-O,e6,Bg5,Be7,Re1,O-O,e5,dxe5,Qxd8,Rfxd8,Rxe5,h6,Bxf6,Bxf6,Re3,Rd2,Rc1,Rad8,h3,Bxc3,bxc3,Rb8,c4,Rb2,Rc3,Ra2,Rb3,Rxa4,Rb8+,Kh7,Rb6,a5,Rxc6,Rb4,c5,a4,Ra6,Rc4,c6,a3,Rxa3,Rxc6,c3,Rd3,f3,Kg6,h4,Kf5,Ra5+,Kf4,Ra4+,Ke3,Re4+,Kd2,Ra1,Rdxc3,Rd4+,Ke3,Rad1,f5,Rd7,g6,Rg7,e5,Re7,e4,Re1+,Kf4,fxe4,fxe4,R7xe4+,Kg3,Kf1,Rc2', 'R1e3+,Kh2,Rh3#', 'https://lichess.org/training/VVEN2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VvesN', 'Rapid', 'YDxVCT', 1789, 'DoctorPie', 1927, 'e4,e5,d4,exd4,Nf3,c5,Bc4,Nf6,e5,d5,Bb5+,Nfd7,O-O,a6,Bxd7+,Bxd7,c3,dxc3,Nxc3,Be6,Bg5,Be7,Bxe7,Kxe7,Ng5,Nc6,f4,h6,Nf3,g6,Qb3,b5,Rfd1,d4,Qc2,Qb6,Ne4,c4,Qf2,Rad8,Nd6,Qa7,Nxd4,Nxd4,Qxd4,Qxd4+,Rxd4,Rd7,a3,Rhd8,Rad1,f6,Kf2,g5,g3,Bh3,Ke3,h5,R1d2,Ke6,Nb7,Rxd4,Rxd4,Rxd4,Kxd4,fxe5+,fxe5,Kf5,e6,Kxe6,Nc5+,Kf5,Nxa6,Kg4,Ke3,Bg2,Kf2,Kh3,Kg1,Be4,Nc7,Bc6,Na6,Kg4,Kf2,h4,Nb4,hxg3+,hxg3,Be4,Na6,Kf5,Nc7,Bc6,Ke3,Ke5,Na6,Kd5,Nb4+,Kc5,Nxc6,Kxc6,Kd4,Kb6,Kc3,Ka5,Kc2,g4,Kc3', 'Ka4,Kc2,b4,Kc1,bxa3', 'https://lichess.org/training/VvesN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vVEzs', 'Rapid', 'Barabulka_007', 1899, 'oldnik', 1630, 'd4,b6,Bf4,Bb7,e3,a6,Nf3,d6,Be2,g6,O-O,Bg7,c3,e6,Nbd2,Ne7,Rc1,O-O,Nb3,Nd7,Bd3,e5,dxe5,Nxe5,Be2,N7c6,Nbd4,Qd7,Bg3,Rac8,Nxe5,Bxe5,Nxc6,Qxc6', 'Bf3,Qb5,Bxb7', 'https://lichess.org/training/vVEzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VVfF4', 'Rapid', 'KuDm', 1912, 'Sansan1304', 1906, 'e4,e5,Bc4,Nf6,Qf3,Bc5,d3,Nc6,c3,d6,h3,Be6,Bb5,a6,Ba4,b5,Bc2,Qd7,Bg5,d5,Bxf6,gxf6,Qxf6,Rg8,g4,dxe4,dxe4,Rg6,Qh8+,Ke7,Qxa8,a5,Nd2,Bxf2+,Ke2,Bc4+,Kd1,Be3,Nf3,Rf6,Ke1,Bxd2+,Nxd2,Qd6,Nxc4,bxc4,Rd1,Qc5,Rd2,Qe3+,Re2,Qc1+,Bd1,Rd6,Kf2,Nd8,Qxa5,Ne6,Qxe5,f6,Qg3,Nf4,Qe3,Nxe2,Kxe2,Qxb2+,Kf3', 'Rd3,Qxd3,cxd3', 'https://lichess.org/training/VVfF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vVfG7', 'Blitz', 'darkwarrior86', 2281, 'GM cjota95', 2674, 'd4,c6,c4,d5,Nc3,Nf6,Nf3,g6,e3,Bg7,Be2,O-O,O-O,Bg4,b3,e6,a4,Nbd7,a5,Re8,Bb2,Bxf3,Bxf3,a6,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bf3,Rc8,Qe2,Rc7,Rfd1,Rd7,Rd3,Kh8,Bc3,Ng8,Rad1,Ne7,Be4,Kg8,g3,Qc7,f4,Red8,Kg2,c5,d5,Bxc3,Rxc3,exd5,cxd5,Nxd5,Bxd5,Rxd5,Rxd5,Rxd5,Qe8+,Kg7,Re3,Rd2+,Kh3,Qd6,Re7,Qf6,Re5,Rd8,Qe7,Qxe7,Rxe7,Rd2,Rxb7,Ra2,Rb6,Rxa5,Rc6,Rb5,Kg4,Rxb3,Rxa6,Rb2,Rc6,h5+,Kh3,Rc2,Rc7,Kf6,Rc6+,Kf5,Rc7,f6,Rc6,g5,fxg5,fxg5,g4+,Kf4,gxh5', 'g4+,Kh4,Rxh2#', 'https://lichess.org/training/vVfG7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VVFma', 'Rapid', 'souravGH', 1789, 'MaluluP', 1708, 'd4,g6,e4,Bg7,e5,e6,Nf3,d6,Nc3,Nc6,Bb5,Ne7,Bg5,Bd7,O-O,dxe5,dxe5,a6,Bxc6,Bxc6,Bf6,O-O', 'Qxd8,Rfxd8,Bxe7', 'https://lichess.org/training/VVFma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vVgH0', 'Blitz', 'rezaalii', 2140, 'saultrevino', 2226, 'e4,d5,exd5,c6,dxc6,Nxc6,Nf3,e5,Bb5,Bd6,O-O,Nf6,Re1,O-O,Bxc6,bxc6,Nxe5,Qc7,d4,Rd8,Qe2,Bb7,Nc3,a6,Bg5,c5,Bxf6,gxf6,Ng4,cxd4,Nxf6+,Kg7,Ncd5,Bxd5,Nxd5,Bxh2+,Kh1,Rxd5,Qg4+,Kh8,g3,Rg8,Qh4,Bxg3', 'Qf6+,Rg7,Re8#', 'https://lichess.org/training/vVgH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VVGYM', 'Rapid', 'Chandrasekharnkp', 1790, 'wasinwill', 1620, 'g3,c5,Bg2,Nf6,h3,d5,e3,Bf5,d3,e6,b3,Nc6,Ne2,Be7,O-O,O-O,Bb2,Nb4,a3,Nc6,Nd2,a5,Qb1,h6,Qa2,Bh7,Rad1,Nd7,Qa1,e5,Bxd5,Nb6,Bg2,Nd7,Bc3,f5,Qb2,Bf6,Bd5+,Kh8,Bg2,Nb6,Nc4,Ra6,Kh2,Bg8,Ng1,Nd5,Bxd5,Bxd5,Ne2,f4,exf4,exf4,Nxf4,Nd4,Nd2,Kh7,h4,Bxh4,Bxd4,cxd4,Qxd4,Rd6,Qe5,Bf6,Qf5+,Kg8,c4,Bg5,Qg4,Bxf4,gxf4,Rff6,cxd5,Rg6,Qf5', 'Qh4+,Qh3,Qxf4+', 'https://lichess.org/training/VVGYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vviJE', 'Rapid', 'gregorioo', 1791, 'derfus', 1776, 'Nf3,c5,e4,e6,Bc4,d5,exd5,exd5,Bb5+,Nc6,Qe2+,Be6,d4,a6,Bxc6+,bxc6,O-O,h6,Ne5,Qc7,Bf4,Bd6,c3,c4,b3,cxb3,axb3,a5,Ng6,Rh7,Bg3,Nf6,b4,Bxg3,fxg3,Ne4,Ne5,f6,Ng6,h5,b5,cxb5,Qxb5+,Bd7', 'Qxd5', 'https://lichess.org/training/vviJE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VvjAQ', 'Blitz', 'MrGCG', 1523, 'GrooveRock', 1514, 'e4,c5,c3,Nf6,e5,Nd5,d4,e6,f4,Nc6,Nf3,cxd4,cxd4,Qa5+,Bd2,Qb6,Nc3,Nxd4,Nxd5,Nxf3+,Qxf3,exd5,Qxd5,Qxb2,Rd1,Be7,Bc4,O-O,O-O,Rb8,f5,Qb6+,Kh1,Qc6,Qd4,b6,Bd5,Qc5,Qe4,Kh8,f6,Bd8,Qg4,g6,Qh4,Qxd5,Qh6,Rg8,Rf4,Bb7', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/VvjAQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VVkqP', 'Rapid', 'Almendrita7w7Mokewa', 1629, 'Janpier_Alejandro', 1612, 'e4,c5,Nf3,e6,Nc3,Ne7,Bc4,Nbc6,O-O,a5,d4,cxd4,Nxd4,Nxd4,Qxd4,Ng6,Rd1,e5,Qe3,b6,Qf3,f6,Bg5,Rb8,Nb5,Ba6,Nd6+,Bxd6,Bxa6,fxg5,Rxd6,Rf8,Qh5,Rf6,Rxf6,Qxf6,Qxh7,Ke7,Rd1', 'Rh8,Qxh8,Nxh8', 'https://lichess.org/training/VVkqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vVL8L', 'Rapid', 'lacevedo', 1739, 'MatG', 1660, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bc5,Bxc6,bxc6,d4,exd4,Nxd4,O-O,Bg5,Ba6,Qd2,Bxd4,Qxd4,Nxe4,Nxe4,Qe8,O-O-O,f6,Bf4,d5,Nc5,Be2,Rde1,Qh5,f3,Rfe8,g4,Qh3,Qf2,Bxf3,Rxe8+,Rxe8,Rg1,Re2,Qd4,Be4,Bd2,Qxh2,g5', 'Rxd2,Qxd2,Qxg1+', 'https://lichess.org/training/vVL8L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VVNQh', 'Rapid', 'Iplaygambit', 2154, 'zeweeer', 2025, 'e4,e6,d4,b6,Nc3,Bb7,Bd3,Bb4,Nf3,Nf6,e5,Ne4,Bd2,Nxd2,Qxd2,Nc6,O-O,d5,Qf4,Bxc3,bxc3,Qe7,c4,dxc4,Bxc4,O-O-O,c3,h6,a4,Na5,Bb5,g5,Qe3,Kb8,Nd2,f5,exf6,Qxf6,Ne4,Qf5,Ng3,Qd5,f3,h5,Ne4,g4,Nf6,Qf5,Nd7+,Rxd7,Bxd7,gxf3,Bxe6,Qg6,g3,Re8,Bf5,Qc6,d5,Rxe3,dxc6,Bxc6,Rfe1', 'f2+,Kxf2,Rf3+,Kg1,Rxf5', 'https://lichess.org/training/VVNQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vvnVk', 'Classical', 'Adnan123321', 1638, 'Drishya', 1635, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nxc3,Nc6,Nf3,Nf6,O-O,Be7,a3,O-O,b4,Ne5,Bb3,Bg4,Nd5,Nxf3+,gxf3,Nxd5,Bxd5,Bd7,f4,c6,Bc4,Bf6,Ra2,Re8,Re2,b5,Bb3,Be6,Bc2,Bc4,Bd3,Bxd3,Qxd3,Qd7,f3,a5,Rg2,axb4,axb4,Ra1,Bd2,Rxf1+,Qxf1,Ra8,e5,dxe5,Bc3,Qe6,Qe2,exf4', 'Qxe6,fxe6,Bxf6', 'https://lichess.org/training/vvnVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VVO99', 'Blitz', 'CM Cisterciense', 2218, 'Nazar_Poznyak', 2120, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,d6,Nc3,b6,Be2,Nf6,Be3,Be7,O-O,Bb7,f3,O-O,Rc1,Qc7,Qd2,Re8,Rfd1,Nbd7,Kh1,Rac8,b4,Qb8,Na4,Bd8,Bg1,Bc7,Nb3,d5,cxd5,exd5,exd5,Nxd5,Bxa6,Bxa6,Qxd5,Nf6,Qf5,Re2,b5,Bb7,Nxb6,Bxb6,Bxb6,Rce8,Bd4,Qd8,Bxf6', 'Qxd1+,Rxd1,Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/VVO99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vVOFl', 'Blitz', 'sonicoak', 1591, 'Cash_Snail', 1592, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,f3,Bf5,Bd3,Bxd3,Qxd3,a6,Bg5,Nbd7,Nge2,e6,O-O,Bd6,Rfe1,O-O,Rac1,Qc7,h3,b5,Qd2,Rac8,Bf4,Bxf4,Nxf4,Nb6,Nce2,Nc4,Qc3,Qb6,b3,Nd6,Qd3,Rc7,c3,Rfc8,Qd2,Nf5,Nd3,Nh5,Nc5,Nhg3,Nxg3,Nxg3,Qf2,Nh5,Qh4,Nf6,b4,Nd7,Rc2,Nxc5,bxc5,Qb7,Re5,Re8,Rh5,h6,Qg3,Kh8,Qe5,Kg8,Rh4,f6,Qg3,Kh7,Re2,Rce7,f4,b4,Rb2,a5,cxb4,axb4,a3,Qa6,Rxb4,Ra8,Rb3,Qc4,Rg4,Qxd4+,Kh1,Qxc5,f5,e5,Rg6,e4,Rc3,Qd4,Rb3,Qd1+,Kh2,d4,Rb6,d3,Rc6,d2,Rd6,Qc1,Qg4,Rxa3,Rd8,Rd3', 'Rxh6+,gxh6,Qg6#', 'https://lichess.org/training/vVOFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vvpGN', 'Rapid', 'order523', 1933, 'Malted', 1854, 'e4,e5,Nf3,Nc6,d4,d6,h3,exd4,Nxd4,Nxd4,Qxd4,Be6,Nc3,Ne7,Bb5+,c6,Bd3,c5,Qa4+,Nc6,Bb5,Bd7,Nd5,a6,Be2,b5,Qb3,Be7,Nxe7,Qxe7,Qf3,Nd4,Qd3,O-O,O-O,Qe5,Bd1,Bc6,Re1,c4,Qg3,Qe7,c3,Ne6,Bh6,g6,Bxf8,Rxf8,Bf3,Ng7,Rad1,Rd8,e5,Bxf3,exd6,Qf6,gxf3,Nf5,Qe5,Qg5+,Kh2,Qh4,Rf1,h5,d7,Kh7,Qd5,Qf4+,Kh1,Kg7,Rde1,Qh4,Qe5+,f6,Qh2,Rxd7,Re4,Qg5,Rg1,Qh6,Qf4,Qxf4,Rxf4,Kh6,Re4,Rd2,Kg2,Rxb2,Re6,Nh4+,Kg3,Nf5+,Kg2,Nh4+,Kf1,Nxf3,Rg2,Ng5,Rxa6,Ne4,a4,bxa4,Rxa4', 'Rb1+,Ke2,Nxc3+,Kd2,Nxa4', 'https://lichess.org/training/vvpGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VvPxa', 'Rapid', 'gorik04', 1731, 'ffatomic', 1743, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,d6,Nc3,Nf6,Be2,Be7,Bd2,O-O,Qg3,Nd4,O-O-O,Nxe2+,Ngxe2,a5,Nf4,c6,h4,b5,h5,b4,Na4,Nxe4,Qf3,Nxd2,Rxd2,Bd7,b3,c5,Nb2,a4,Nc4,axb3,cxb3,Qb8,Nd5,Bg5,Nce3,Be6,h6,Bxd5,Nxd5,Bxd2+,Kxd2,Rxa2+,Kd3,Qb5+,Ke4,Qe2+,Qxe2,Rxe2+,Kf3,Rb2,Ne7+,Kh8,hxg7+,Kxg7,Nf5+,Kh8,Nxd6,Rxb3+,Kg4,Rd3,Ne4,Rd4,Kf3,c4,Rc1,b3,Ke3,Rd3+,Ke2,b2,Rb1,Rb3,Kd2,Rd8+,Kc2,Rbb8,Rxb2,Rxb2+,Kxb2,Kg7,Kc3,Rc8,Nd6,Rc7', 'Ne8+,Kg6,Nxc7', 'https://lichess.org/training/VvPxa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vvqgZ', 'Rapid', 'ThunderMax', 2003, 'Sumaher', 1998, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,c6,Nf3,Bd6,e3,O-O,cxd5,exd5,Bd3,Bg4,h3,Bh5,O-O,h6,Bxf6,Qxf6,Be2,Bc7,Nd2,Qd6,f4,Bg6,Bf3,Re8,Re1,Nd7,Qe2,Nf6,Qf2,b6,Rac1,Re7,Na4,Rae8,Rc3,c5,dxc5,bxc5,Nxc5,Bb6,b4,d4,Rb3,Bxc5,e4,d3,bxc5,Qa6,f5,Bxf5,Qd4,Qxa2,Qb4,Bc8,Ra3,Qe6,Rxd3,Ba6,Rd4,Rb7,Qa3,Qe5,Rd6,Bd3,Qxd3,Qxc5+,Kh1,Reb8,Rd8+,Rxd8,Qxd8+,Kh7,e5,Qf2,Rc1,Rd7,Qb8,Qxd2,Qb1+,Rd3,exf6,g6,Rd1,Qxd1+,Qxd1,Rxd1+,Bxd1,g5,Bc2+,Kg8,Bd3,Kf8,Bb5,h5,Kg1,Kg8,Kf2,Kh7,Bc4,Kg6,Ke3,Kxf6,Ke4,Kg6,Ke5,f6+,Ke6,g4,Bd3+,Kg5,hxg4,hxg4,g3,a5,Bb5,f5,Ke5,f4,gxf4+,Kh4,f5,g3,Bc6,a4,f6,a3,f7,a2,f8=Q,a1=Q+,Ke6,Qa2+,Kd7,Qa7+,Kd6', 'Qa3+,Kd5,Qxf8', 'https://lichess.org/training/vvqgZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VvQOV', 'Blitz', 'FM Lex6699', 2528, 'Jenlen3001', 2396, 'e4,c6,d4,d5,e5,Bf5,h4,h5,c4,e6,Nc3,Ne7,Nge2,dxc4,Ng3,Bd3,Bxd3,cxd3,Qxd3,Nd7,Bg5,f6,exf6,gxf6,Be3,Ne5,Qe2,Ng4,Nxh5,Nxe3,Nxf6+,Kf7,Qxe3,Kxf6', 'Qe5+,Kf7,Qxh8', 'https://lichess.org/training/VvQOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VVtpK', 'Blitz', 'Ghost_Turtle', 1920, 'BicameralMind', 1937, 'd4,Nf6,c4,g6,Nf3,d5,Nc3,Bg7,Bg5,Ne4,e3,Nxg5,Nxg5,O-O,Be2,c5,O-O,cxd4,exd4,Nc6,cxd5,Nxd4,Nf3,Nxe2+,Qxe2,Bxc3,bxc3,Qxd5,Rfd1,Qe6,Qb2,b6,Rd3,Bb7,Re1,Qc4,Rd4,Qc7,Ne5,Rad8,Ng4,Qc6,f3,Rxd4,cxd4,Rd8,d5,Qc5+,Kh1,Rxd5', 'Nh6+,Kf8,Qh8#', 'https://lichess.org/training/VVtpK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vVujA', 'Rapid', 'DionisSenjo', 1815, 'Rulezzz', 1801, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Nc3,e6,Bb5+,Nc6,Ne5,Qb6,O-O,Bb4,Nxc6,bxc6,Ba4,Nf6,Bg5,Bxc3,bxc3,Ne4,Bd2,O-O,Rb1,Qa6,Bb3,Nxd2,Qxd2,Rac8,f4,c5,dxc5,Rxc5,Qd4,Rfc8,Rf3,Be4,Rg3,f6,Re1,Qa5,Ree3,Qa3,Qd1,a5,h3,a4,Qg4,R5c7,Rxe4,dxe4', 'Bxe6+,Kf8,Bxc8', 'https://lichess.org/training/vVujA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vVvb8', 'Rapid', 'WadeWilson', 2012, 'GoGo44', 2145, 'Nf3,e6,c4,d5,g3,Nf6,Bg2,b6,O-O,Bb7,b3,g6,Bb2,Bg7,d4,O-O,Nbd2,Nbd7,Rc1,c5,Ne5,Rc8,Re1,Nxe5,dxe5,Nd7,f4,Qc7,cxd5,Bxd5,e4,Ba8,Nc4,Rfd8,Nd6,Nb8,Qg4,Nc6,Nxc8,Qxc8,Red1,Nb4,Rxd8+,Qxd8,Rd1,Qc7,a3,Nc6,Qe2,Na5,Qd2,Bf8,b4,Nc4,Qc3,Nxb2,Qxb2,cxb4,axb4,Qc4,Qb1,Bc6,h3,Bxb4,Rc1,Bc5+,Kh2,Qe2,Qc2,Qe3,f5,gxf5,exf5,Bxg2,Kxg2,Qxe5,fxe6,Qxe6,Rd1', 'Qc6+,Kh2,Bg1+,Kxg1,Qxc2', 'https://lichess.org/training/vVvb8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VvwpN', 'Classical', 'mofaq', 1626, 'sheva1000', 1637, 'e4,e5,Bc4,Nf6,Nf3,h6,Nxe5,Qe7,Nxf7,Qxe4+,Kf1', 'Qxc4+,Qe2+,Qxe2+', 'https://lichess.org/training/VvwpN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vvZ5M', 'Blitz', 'Vylyan', 1959, 'Alexndr74', 2027, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,h6,a3,O-O,h3,a6,O-O,b5,Ba2,Bb7,Kh1,d6,Nh2,Nd4,f4,d5,fxe5,Nd7,Qh5,Nxc2,Nxd5,Kh7,Qf5+,g6,Qf4,Qg5,Nf6+', 'Nxf6,exf6,Qxf4,Bxf4,Nxa1', 'https://lichess.org/training/vvZ5M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vw1Mz', 'Rapid', 'Bigosto89', 1763, 'Av42', 1673, 'd4,e5,dxe5,Nc6,Nf3,Bb4+,c3,Bc5,Bg5,f6,exf6,Nxf6,Bxf6,Qxf6,e3,d5,Qxd5,Bd6,Bc4,Ne7,Qe4,h6,Nbd2,Rf8,O-O-O,c6,Nd4,Qxf2,Ne6,Bxe6,Qxe6,Rf6,Ne4', 'Qxe3+,Kb1,Rxe6', 'https://lichess.org/training/Vw1Mz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vw2PK', 'Rapid', 'gelemk', 1718, 'samandarsingh', 1782, 'e4,e5,Nf3,d6,d4,Nf6,Nc3,Bg4,Be2,Nc6,dxe5,Nxe5,Nxe5,Bxe2,Qxe2,dxe5,Bg5,Bb4,Bd2,a5,O-O,h5,Rad1,h4,Bg5,Qe7,Nd5,Qc5,Nxf6+,gxf6,Bxf6,Rh6,Rd5,Qc6,Bxe5,h3,g3,Rd8,Rfd1,Bd6,Bxd6,cxd6,Rg5,Rf6,Rg8+,Ke7,Rxd8,Kxd8,Rd5,Kd7,Qg4+,Ke7,Qe2,Ke6,Rxa5,Ke7,c3,Re6,f3', 'Qb6+,Kf1,Qxa5', 'https://lichess.org/training/Vw2PK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vw2Ys', 'Blitz', 'heroamateur2020', 1796, 'orhoky', 1781, 'e4,e5,Nf3,Qf6,d4,d6,Bg5,Qe6,b3,Be7,Bc4,Qg6,Bxe7,Nxe7,dxe5,dxe5,Nxe5,Qxg2', 'Bxf7+,Kf8,Qd8#', 'https://lichess.org/training/Vw2Ys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vw32W', 'Blitz', 'NM mnmassari', 2156, 'podjevsky', 2199, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e4,d6,Be2,Na6,O-O,e5,dxe5,dxe5,Qxd8,Rxd8,Bg5,Re8,Rad1,c6,Rd6,Nh5,g3,Bf8,Rd2,Bg4,Rfd1,Bxf3,Bxf3,Nc5,Bxh5,gxh5,f3,Be7,Be3,Ne6,Kf2,Red8,Rxd8+,Bxd8,Rd7,b6,b4,a5,b5,cxb5,Nxb5,Rc8,Nd6,Rc7,Rxc7,Bxc7,Nb5,Bd8,h4,Kg7,Ke2,Kg6,Kd3,f5,Nd6,f4,gxf4,Nxf4+,Bxf4,exf4,Kd4,Bxh4,Kd5,Bf2,e5,h4', 'e6,Kf6,Ne4+,Ke7,Nxf2', 'https://lichess.org/training/Vw32W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vw6J9', 'Rapid', 'antoshka-kartoshka', 2043, 'Fuegonegro750', 2249, 'd4,Nf6,Bf4,d6,e3,h6,Nf3,g5,Bg3,g4,Nfd2,Be6,Be2,h5,Bh4,Rh6,c4,Nbd7,Nc3,c6,e4,Nb6,O-O,Bg7,Bd3,Nh7,d5,Bxc3,bxc3,Bd7,f3,gxf3,Qxf3,f6,Qf4,Rg6,e5,Rg4,Qf2,Ng5,h3', 'Nxh3+,Kh2,Nxf2', 'https://lichess.org/training/Vw6J9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VW7wj', 'Blitz', 'Sasko', 1750, 'ahalp0217', 1693, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bb4,Nxc6,Bxc3+,bxc3,bxc6,Qg4,Qf6,Bb2,h5,Qg3,d5,exd5,cxd5,O-O-O,Ne7,c4,Qh6+,f4,O-O,cxd5,Nxd5,Bc4,Bb7,Rhf1,Rac8,Bb3,Ba6,Rf2,Bc4,Bxc4,Rxc4,Kb1,Rxf4,Rxf4,Nxf4,Rd7,Rb8,Rxa7,Ne2,Qxb8+,Kh7,Qc7,Qd2,Qa5', 'Qd1+,Bc1,Qxc1#', 'https://lichess.org/training/VW7wj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vw83Q', 'Classical', 'Kranplatz', 1670, 'Lita90', 1854, 'd4,d5,c4,c6,Nc3,Nf6,Bf4,e6,e3,Bb4,Qc2,O-O,Bd3,dxc4,Bxc4,b5,Bd3,Bxc3+,bxc3,Nbd7,Nf3,Bb7,Rb1,a6,a4,c5,O-O,c4,Bxc4,Bxf3,Bd3,Bc6,axb5,axb5,Bxb5,Bxb5,Rxb5,Nd5,Bd6,Re8,Rfb1,Qg5,Rb7,N7f6,c4,Nxe3,fxe3,Qxe3+,Qf2', 'Qxf2+,Kxf2,Ne4+,Kg1,Nxd6', 'https://lichess.org/training/vw83Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VW9En', 'Rapid', 'huevodiestro', 1812, 'hamed3652', 1786, 'd4,e5,dxe5,Bc5,Nf3,d6,exd6,Ne7,dxe7,Bxf2+,Kxf2,Qxd1,Be3,Qxc2,Nc3,Qxb2,Rc1,c6,Na4,Qa3,Nc5,Bg4,Ne5,Be6,Ne4,Qxe7,Nf3,Bxa2,Ng3,Bd5,Bc5,Qf6,e4,Be6,Bd4,Qf4,Be3,Qc7,Be2,O-O,Nd4,Nd7,Bf3,c5,Nde2,Ne5,Bf4,Nd3+,Ke3,Nxf4,Nxf4,f5,Nxe6,f4+,Kf2,fxg3+,hxg3,Qc6,Nxf8,Rxf8,Rce1,b5,Rh4,c4,Reh1,h6,g4,Qxe4,g5,Qc2+,Kg3,hxg5', 'Bd5+,Rf7,Rh8#', 'https://lichess.org/training/VW9En');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VwAcT', 'Rapid', 'Mohamad-Naasan', 1774, 'darnell1984', 1774, 'd4,g6,Nf3,Bg7,c4,c6,Nc3,Nf6,b3,d6,Bb2,Bg4,e3,Bxf3,Qxf3,O-O,Bd3,Nbd7,O-O,e5,Bc2,exd4,exd4,Re8,h3,Qb6,c5,dxc5,Na4,Qb5,dxc5,Nxc5', 'Bxf6,Bxf6,Qxf6', 'https://lichess.org/training/VwAcT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VWBBu', 'Blitz', 'IM KamranShirazi', 2508, 'danikoshvili', 2475, 'f4,d5,c4,d4,e4,dxe3,d4,c5,d5,e5,fxe5,Qh4+,g3,Qe4,Nf3,Bg4,Be2,Bxf3,Bxf3,Qxe5,d6,Nc6,d7+,Kd8,Bxc6,bxc6,Qf3,e2,Qxc6,Rb8,Bf4,Qxb2,Qc7+,Ke7,d8=Q+,Ke6,Qe5+,Qxe5,Qxb8,Qxa1,Qc8+,Kf6,Qc6+,Kf5,Kxe2,Nf6,Rf1,Kg6,Nd2,Qd4,Be3,Qg4+,Ke1,Be7,Rf4,Qe6,Qf3,Rb8,Ne4,h6,Nxf6,Bxf6,Re4,Qb6,Bd2,Qb1+,Kf2,Kh7', 'Qf5+,Kg8,Re8+,Rxe8,Qxb1', 'https://lichess.org/training/VWBBu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VwceL', 'Rapid', 'RPotenza', 1641, 'johnboy', 1980, 'e4,c5,Bc4,Nc6,Nf3,e6,Nc3,a6,d4,cxd4,Nxd4,Bb4,Nxc6,Bxc3+,bxc3,bxc6,O-O,Bb7,f4,d5,exd5,cxd5,Bd3,Qc7,Qg4,g6,f5,exf5,Qd4,f6,Re1+,Kf7,c4,Ne7,Bb2,Qc6,Ba3,Rhe8,c5,Ng8,Qh4,Kg7,Qg3,Ne7,Qd6,Ng8,Rab1,Rxe1+,Rxe1,Kf7,c4,d4,Re2,Re8,Rxe8', 'Qxg2#', 'https://lichess.org/training/VwceL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VwcI7', 'Rapid', 'taupalov', 1619, 'KA-50Hokum', 1611, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,Re1,Bc5,Bg5,Qe8,Nc3,Ng4,Rf1,h6,Bh4,Kh8,h3,Nf6,Bxf6,gxf6,d4,exd4,Nd5,Bb6,Nxf6,Qe7,Ng4,h5,Ngh2,Rg8,Qd2,Qf6,Qd3,d6,Rfe1,Bxh3,Kf1,Rxg2,Ke2,Re8,Rg1,Rxg1,Rxg1,Nb4,Qb3,Rxe4+,Kd2,Qf4+,Kd1,Bg4,Bxf7,Qxh2', 'Rxg4,Qh1+,Rg1', 'https://lichess.org/training/VwcI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VWcOe', 'Blitz', 'michaeljmeadows', 2186, 'Schachkater', 2249, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,d4,b5,Bb3,d5,dxe5,Be6,Nbd2,Be7,c3,O-O,Bc2,f5,Nd4,Nxd4,cxd4,c5,dxc5,Bxc5,Nb3,Bb6,Nd4,Qd7,Be3,f4,Nxe6,fxe3,Nxf8,exf2+,Kh1,Qc6,Bb3', 'Ng3+,hxg3,Qh6+,Qh5,Qxh5#', 'https://lichess.org/training/VWcOe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VWDe5', 'Rapid', 'Ahmed557', 2027, 'buldaner', 2037, 'e4,e5,Qh5,Nf6,Qxe5+,Be7,Nc3,Nc6,Qg3,d5,e5,Nh5,Qf3,Nd4,Qd1,O-O,Bd3,g6,h3,c5,Nf3,Nxf3+,Qxf3,c4,Be2,Be6,d4,cxd3,Bxd3,Qc7,Bh6,Qxe5+,Ne2,Ng7,O-O,Bd6', 'Bf4,Qf6,Bxd6,Qxf3,gxf3', 'https://lichess.org/training/VWDe5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vwEkM', 'Classical', 'GaniShyn', 1629, 'yd050057', 1763, 'd4,Nf6,Nc3,d5,f3,e6,e4,dxe4,fxe4,g6,e5,Nh5,Nf3,b6,g3,Bb7,Bg2,Ng7,O-O,Nf5,Bg5,Be7,Bc1,O-O,Ng5,Qxd4+', 'Qxd4,Nxd4,Bxb7', 'https://lichess.org/training/vwEkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VWEoo', 'Rapid', 'valerka08', 1960, 'PN1989', 1893, 'd4,Nf6,Nf3,d6,c4,g6,Nc3,Bg7,e4,O-O,Bd3,Bg4,h3,Bxf3,Qxf3,e5,d5,Nfd7,g4,a5,Be3,Na6,Qe2,Bf6,Bh6,Re8,Qe3,Nac5,Ke2,Nf8,g5,Bh8,h4,f5,f3,f4,Qg1,Nfd7,h5,Nb6,hxg6,hxg6,Qh2,Qe7', 'Bf8,Rxf8,Qxh8+', 'https://lichess.org/training/VWEoo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VWFHS', 'Rapid', 'Gtzm', 1916, 'Clynch4', 1892, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be2,Nxd4,O-O,Nxe2+,Qxe2,Bxc3,bxc3,Nf6,e5,Nh5,Bh6,b6,Rfd1,e6,Rd6,Bb7,Rad1,Bc6', 'Rxc6,dxc6,Rxd8+', 'https://lichess.org/training/VWFHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vwFMA', 'Blitz', 'andreasyan_viktor', 2000, 'tolentinointernet', 2022, 'd4,e6,c4,d5,Nc3,c6,Nf3,dxc4,a4,Bb4,e4,b5,axb5,cxb5,Bd2,Bxc3,bxc3,Bb7,Qc2,Ne7,Be2,O-O,O-O,Nbc6,Bg5,f6,Bh4,a6,Rfd1,Qb6,d5,exd5,exd5,Ne5,Nxe5,fxe5,Bxe7,Qxf2+,Kh1,Rf7,Rf1,Qe3,Rxf7,Kxf7,d6,Kg8,Rf1,a5,h3', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/vwFMA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vWG0z', 'Rapid', 'marlei', 2048, 'RenaChess', 1978, 'f4,e5,fxe5,d6,Nf3,dxe5,e4,Nc6,Bb5,Bd6,Bxc6+,bxc6,O-O,Nf6,d3,O-O,Bg5,Rb8,b3,Qe7,Nh4,Kh8,c4,Bc5+,Kh1,Bd4,Nd2,Bxa1,Qxa1,h6,Bxf6,gxf6,Nf5,Bxf5,Rxf5,Rg8,Qf1,Rg6,Nf3,Rbg8,Nh4,Rg4,g3,Kg7,Rh5,Rg5', 'Rxg5+,hxg5,Nf5+,Kf8,Nxe7', 'https://lichess.org/training/vWG0z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VwGbq', 'Rapid', 'dinizchess7', 1745, 'nanu9000', 1799, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Bc4,Bg7,O-O,Nf6,e5,Ng8,Re1,Qc7,Bf4,e6,Nc3,Ne7,Qd6,Qb6,Na4,Qb7,Bb3,Nd5,Bxd5,cxd5,Qc5,Bf8,Qc3,Bb4,Qh3', 'Bxe1,Rxe1,Qb4', 'https://lichess.org/training/VwGbq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vWhNF', 'Rapid', 'Serhiy89', 2149, 'SUNGAM1', 1619, 'd4,e6,Nf3,d6,Bf4,h6,e3,a6,Bd3,b6,O-O,Bb7,c4,g5,Bg3,Ne7,Nc3,Bg7,h3,Bc8,Be4,Ra7,a4,f5,Bd3,Ng6,Nh2,Qf6,d5,e5,f3,Nd7,e4,f4,Bf2,h5,a5,O-O,b4,Nh4,b5,axb5,Nxb5,Rxa5,Rxa5,bxa5,Nxc7,Nc5,Bxc5,dxc5,Rf2,Qe7,Nb5,Bd7,Qa4,Ra8,Qa3,Qd8,Ra2,Nxf3+,Nxf3,g4,hxg4,hxg4,Ne1,Qh4,Ra1,g3,Nf3,Qh5,Qxc5,Bg4,Be2,Bxf3,Bxf3,Qh2+,Kf1,Qh1+,Qg1,Qxg1+,Kxg1,Bf8,Nc7,Bc5+,Kf1,Ra7,Ne6,Bd4,Nxd4,exd4,Ke2,a4,Kd3,a3,Kxd4,a2,Bd1,Kf7,Bb3,Kg6,Rxa2', 'Rxa2,Bxa2,f3,gxf3,g2', 'https://lichess.org/training/vWhNF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VwhP4', 'Rapid', 'rksakrir', 1606, 'benthehorse', 1715, 'e4,e5,f4,d5,Nc3,d4,Nd5,f6,fxe5,fxe5,Nf3,Nc6,Bb5,Bd6,d3,Ne7,Bxc6+,bxc6,Nxe7,Qxe7,Bg5,Qf7,O-O,Qg6,Qd2,O-O,Nh4,Qh5,Rxf8+,Bxf8,Nf3,Bg4,Nxe5,Bd6,Nxg4,Qxg4,h3', 'Qg3,e5,Bxe5', 'https://lichess.org/training/VwhP4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vWHPw', 'Rapid', 'SpyQxO', 1916, 'veleniti', 1938, 'e4,c5,Nf3,d6,c3,Nc6,Bc4,e5,h3,h6,O-O,a6,a4,Nf6,Re1,Be7,d4,cxd4,cxd4,exd4,Nxd4,Qb6,Nf5,O-O,Bd5,Bxf5,Bxc6,Nxe4,Bxe4,Bxe4,Rxe4,Bf6,Nc3,Rfe8,Rxe8+,Rxe8,Be3,Qxb2,Bd2,Bxc3,Bxc3,Qxc3,Rb1,Qc6,a5,Re5,Rb6,Qc7,Rxd6,Qxa5,Rd8+,Kh7,Qd3+,g6,Rd7,Qe1+,Kh2,Qxf2,Rxb7,a5,Qc4,Kg7,Rb8,Rg5', 'Qc3+,Qf6,Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/vWHPw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VWHRX', 'Blitz', 'jozijoku_samurai', 1728, 'leonelruiz', 1812, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d4,g6,d5,Nb8,Nxe5,Bg7,Bf4,O-O,Nc3,d6,Nf3,c5,dxc6,bxc6,Bc4,d5,exd5,cxd5,Nxd5,Nxd5,Bxd5,Re8+,Be3,Rxe3+,fxe3,Qa5+,c3,Nc6,Bxc6,Rb8,b4,Qa6,b5,Bxc3+,Kf2,Qb6,Rc1,Bg7,Qb3,Be6,Qd3,Rd8,Qe4,Bf5,Qf4,Be6,Rhd1,Rf8,a4,a6,Bd5,axb5,Bxe6,fxe6,Qb4,Qb8,Qxb5,Rxf3+,gxf3,Qxh2+,Kf1,Bf6,Qe2', 'Qh1+,Kf2,Bh4#', 'https://lichess.org/training/VWHRX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vwJ5R', 'Rapid', 'killreds', 2132, 'ICKYQUARTER2', 2295, 'e4,c5,Nc3,d6,g3,Nc6,Bg2,Nf6,d3,g6,h3,Bg7,f4,O-O,Nf3,a6,O-O,Rb8,Qe1,Nd4,Nxd4,cxd4,Ne2,e5,f5,h6,g4,Nh7,Qg3,g5,Kh2,f6,Ng1,Rf7,Nf3,Nf8,Rh1,Nd7,Kg1,Kf8,h4,Ke7,hxg5,hxg5,Kf2,Qg8,Bd2,b6,Bb4,Nc5,Bd2,Bb7,b4,Nd7,Bxg5,fxg5,Nxg5,Rf6,Nh7,Rh6', 'Rxh6,Bxh6,Qh4+', 'https://lichess.org/training/vwJ5R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vWKaX', 'Blitz', 'berleon42', 1520, 'jedimandan', 1518, 'd4,d5,c4,e6,Nc3,Nf6,a3,h6,Nf3,Be7,Bf4,O-O,Nb5,Bd6,Nxd6,cxd6,e3,Nc6,Qb3,Qc7,cxd5,Na5,Qc3,Qxc3+,bxc3,Nxd5,c4,Nxf4,exf4,Bd7,Rb1,b6,Bd3,Rac8,Nd2,Nc6,d5,exd5,cxd5,Rfe8+,Kf1,Nd4,Ne4,Bf5,f3,Bxe4,fxe4,Rc3,Rd1,Rxa3,Kf2,Rc8,Ke3,Nc2+,Kf3,Rcc3,Ke2,Nd4+,Ke3,Nb5,Rd2,a5,Rhd1,Nc7,Kf2,b5,Bb1,b4,Rc2,Rxc2+,Bxc2,b3,Bb1,Nb5,Rd3,Ra1,Rxb3,Nd4,Rb8+,Kh7,e5+,g6,Be4,dxe5,fxe5,Ra2+,Kg3,a4,d6,Ne6,Bd5,Ra3+,Kg4,h5+,Kh4,Kh6,g3', 'g5+,Kh3,Nf4#', 'https://lichess.org/training/vWKaX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vwkek', 'Rapid', 'gjdgjdfj', 1832, 'JBGWAPS1', 1807, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,c3,h6,O-O,Nf6,Re1,a6,Ba4,b5,Bb3,Be7,Nbd2,O-O,Nf1,Na5,Bc2,exd4,Nxd4,c5,Nf3,Bg4,h3,Bh5,Ng3,Bg6,a4,Nc4,b3,Ne5,Bb2,Nxf3+,Qxf3,Nd7,Nf5,Bxf5,exf5,Bf6,axb5,axb5,Qc6,Rxa1,Bxa1,b4,Qxd6,Bxc3,Bxc3,bxc3,Rd1,Re8,Kh2,Re7,Kh1,Qe8,Kh2,Re2,Qxd7,Qxd7,Rxd7,Rxc2,Rc7,Rxf2,Rxc5,c2,Kg3,Rd2,Kf3,Kf8,b4,Ke7,b5,Kd6,Rc3,Ke5,b6', 'Rd3+,Rxd3,c1=Q', 'https://lichess.org/training/Vwkek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vWlRD', 'Rapid', 'jomanuell', 1842, 'pmatti', 1823, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,a6,Nc3,g6,Be3,Bg7,g4,O-O,h4,h5,gxh5,Nxh5,Qd2,Nc6,O-O-O,Ne5,Bh6,Bd7,Bxg7,Kxg7,f4,Nc6,f5,Ne5,Be2,Ng3,Rhg1,Nxe2+,Qxe2,Rh8,fxg6,fxg6,h5,Qe8,Nf5+,Bxf5,exf5,Qf7,fxg6,Qf3,Qh2,Rxh5,Rdf1,Rxh2,Rxf3,Nxf3,Rg3,Ne5,Nd5,Rf8,b3,e6,Nc7,Rf6,Ne8+,Kf8', 'g7+,Kxe8,g8=Q+', 'https://lichess.org/training/vWlRD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VWNDf', 'Rapid', 'RePiola', 1778, 'EbonowySzyderca', 1889, 'e4,c5,Nf3,e5,Bc4,Nc6,Nc3,Nf6,d3,d6,Ng5,Be6,Bxe6,fxe6,Nxe6,Qe7,Nxf8,Qxf8,Bg5,Qf7,Bxf6,Qxf6,Qh5+,g6,Qh3,O-O,O-O-O,a6,Nd5,Qxf2,Qe6+,Kh8,Rhf1,Qxg2,Rxf8+,Rxf8,Qxd6,Kg8,Qxc5,Nd4,Qc4,Kh8,c3,b5,Qc5', 'Qc2#', 'https://lichess.org/training/VWNDf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VwoVa', 'Rapid', 'Mushfigml', 1666, 'shehi', 2000, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bf5,Nc3,c5,Bb5+,Nc6,Ne5,Ne7,Bg5,f6,Bxf6,gxf6,Qh5+,Bg6,Nxg6,hxg6,Qxh8,a6,Bxc6+,Nxc6,O-O,Ne7,Qxf6,cxd4,Qxd4,Qd7,Rfe1,O-O-O,Rad1,Qc6,f3,Nf5,Qd3,Bc5+,Kh1', 'Ng3+,hxg3,Rh8#', 'https://lichess.org/training/VwoVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vwpjk', 'Blitz', 'Juninho', 1995, 'rubenshon', 1911, 'd4,d5,c4,e5,Nc3,Bb4,e3,exd4,exd4,Nf6,Bg5,O-O,Be2,Bf5,cxd5,Qxd5,Bxf6,gxf6,Nf3,Kh8,O-O,Bxc3,bxc3,Rg8,Kh1,Rg7,Rg1,Nc6,Nh4,Rag8,Qf1,Ne7,Rd1,Bh3,Bf3,Qd7,Qd3,Bg4,h3,Bxh3,Bxb7,c6,Qxh3,Qxb7,Nf5,Rg6,Rd3,Qd7', 'Qxh7+,Kxh7,Rh3+,Rh6,Rxh6#', 'https://lichess.org/training/Vwpjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vwprE', 'Blitz', 'CMAG82', 1903, 'DonBurBon', 1919, 'e4,d5,exd5,Qxd5,d4,Qd8,c4,c5,d5,b6,Nc3,g6,Nf3,Bg7,Bd3,Bxc3+,bxc3,Nf6,O-O,Nbd7,Bh6,Ng4,Bd2,Ngf6,Re1,O-O,a4,Kg7,Qe2,Re8,Qe3,Ng8,Ne5,Ndf6,Nc6,Qc7,Qf3,Bb7,Ne5,e6,Nc6,Bxc6,dxc6,Rac8,a5,Qxc6,Qh3,Qc7,axb6,axb6,Re3,Rcd8,Rae1,Rd7,Bc1,Red8,Bc2,Qd6,Rf3,e5,Bg5,Re8,Qh4,Rde7,Rh3,h5,g4,Re6,gxh5,Nxh5,Qg4,Ngf6,Qg2,Qc6,Qf1,e4,Be3,Ng4,Qg2,Nxe3,Rexe3,Nf6,Reg3,Rh8,Rxh8,Kxh8,Qh3+,Kg7,Qh4,Qd6,Rh3,Qf8', 'Qh6+,Kg8,Qh8#', 'https://lichess.org/training/vwprE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vwQgk', 'Rapid', 'Ashish358', 2180, 'alanromeril', 2045, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,e5,Nf3,Nf6,Bg5,Be7,Bc4,O-O,O-O,Bg4,h3,Bh5,Qd3,Qc7,Bxf6,Bxf6,Nd5,Qd8,Nxf6+,Qxf6,c3,Bxf3,Qxf3,Qxf3,gxf3,Rfd8,Rad1,Kf8,Rd5,Ke7,Rfd1,f6,a3,a6,Kg2,Rac8,Bf1,Na7,f4,Rc5,fxe5,fxe5,Rxc5,dxc5,Rxd8,Kxd8,Kf3,Ke7,Kg4,Kf6,Bc4,Nc6,Bd5,Nd8,c4,b5,cxb5,axb5,b3,Ne6,Bxe6,Kxe6,Kg3,c4', 'bxc4,bxc4,Kf3', 'https://lichess.org/training/vwQgk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VWrfu', 'Rapid', 'emorykid18', 1646, 'maforma', 1743, 'd4,d5,c4,Bf5,Bf4,e6,e3,c6,Nc3,h6,cxd5,exd5,Bd3,Be6,Qc2,Nf6,Nge2,Be7,O-O,Nbd7,f3,O-O,e4,Nb6,e5,Nfd7,Ng3,f6,Rae1,fxe5,Bxe5,Nxe5,Rxe5,Bd7,Rfe1,Bf6,R5e2,Bxd4+,Kh1,Bf6,Nd1,Bh4,Nf2,Bxg3,hxg3,Qg5,g4,Qh4+,Kg1,Rae8,Rxe8,Rxe8,Rxe8+,Bxe8,Bg6,Bd7,Bf5,Qe7,Bxd7,Nxd7,Qf5,Nf6,Kh2,Qc7+,Kh3,b5,b4,c5,bxc5,Qxc5,Nd3,Qc4,Ne5,Qxa2,Qc8+,Kh7,Qf5+,Kg8,Qg6,Qa6,Qf7+,Kh8', 'Ng6+,Kh7,Nf8+', 'https://lichess.org/training/VWrfu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vWSUZ', 'Classical', 'mprall', 1882, 'Blitz_Krieg300', 1970, 'd4,d5,c4,c6,Nf3,Nf6,Bf4,Bf5,e3,e6,Bd3,dxc4,Bxc4,Bb4+,Nc3,O-O,O-O,Nd5,Nxd5,cxd5,Bd3,Bg4,a3,Bd6,Bxd6,Qxd6,Be2,Nd7,Qb3,Nf6,Rac1,Ne4,Qd1,Rfc8,Ne5', 'Rxc1,Qxc1,Bxe2', 'https://lichess.org/training/vWSUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vwtfE', 'Rapid', 'renatoshow44', 1620, 'GeraldoO', 1606, 'Nc3,e6,Nf3,Bc5,d4,Bb6,a4,a5,Bf4,Ne7,e4,O-O,Bd3,f5,exf5,Nxf5,Bg5,Qe8,O-O,Nxd4,Nxd4,Bxd4,Bxh7+,Kxh7,Qxd4,d5,Rfe1,Nc6,Qh4+,Kg8,Nxd5,Qg6,Nxc7,Qxc2,Nxe6,Bxe6,Rxe6,Qxb2,Rae1,Nd4,Qe4', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/vwtfE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VWuQb', 'Rapid', 'LAAR', 1673, 'jag7', 1703, 'e4,e5,c4,d6,Nc3,g6,d3,Bg7,Be3,Nf6,h3,c6,Nf3,O-O,Be2,d5,cxd5,cxd5,exd5,Nxd5,Nxd5,Qxd5,b3,Qa5+,Bd2,Qd8,Rc1,Nc6,O-O,Bf5,Ne1,Nd4,g4,Nxe2+,Qxe2,Bd7,Bc3,Re8,Qb2,Bc6,f4,Qd5,Ng2,f6,fxe5,fxe5,Rcd1,Re7,d4,exd4,Bxd4,Bxd4+,Rxd4,Qc5,Rc1,Qb5,a4,Qg5,Rcd1,Rae8,Rd8,Rxd8,Rxd8+,Kf7', 'Qf2+,Qf6,Rf8+,Kxf8,Qxf6+', 'https://lichess.org/training/VWuQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VWVdQ', 'Rapid', 'adiosko', 2143, 'ifte', 2208, 'e4,c5,Nf3,d6,c3,Nf6,d3,Nc6,Be2,e6,O-O,Be7,Be3,O-O,Nbd2,a5,d4,cxd4,cxd4,e5,d5,Nb4,a3,Na6,Bd3,Bd7,Rc1,Bg4,h3,Bh5,Bg5,Nc5,Bxf6,Nxd3,Bxe7,Qxe7,Rc2,Qf6,Qe2,Nf4,Qe3,Qg6,g3,Nxh3+,Kh2,Bg4,Nh4,Qh5,f3,Bd7,Rc7,Rad8,Rxd7,Rxd7,Kxh3,g5,Rg1,gxh4', 'gxh4+,Kh8,Rg5,Qg6,Rxg6', 'https://lichess.org/training/VWVdQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VWvyD', 'Rapid', 'alfred5555', 1770, 'Youngpaulmorphy', 1763, 'Nf3,c5,d4,cxd4,Nxd4,d5,Nc3,e5,Nf3,Nf6,Nxe5,Bd6,Nf3,O-O,Bg5,Be6,Bxf6,Qxf6,e3,Nc6,Be2,Ne5,Rb1,Nxf3+,Bxf3,Rac8,Bxd5,Rfd8,Qf3,Bxd5,Qxf6,gxf6,Nxd5,Rxc2,Nxf6+,Kg7,Nh5+,Kh6,Ng3,Bb4+,Kf1,Rdd2,Nf5+,Kg5,h4+,Kxf5,Rh2,Rxf2+,Kg1,Bd6', 'g4+,Kxg4,Rxf2', 'https://lichess.org/training/VWvyD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vwwQX', 'Classical', 'sodko', 2378, 'Amir-Afify', 2220, 'd4,Nf6,c4,c6,Nc3,d5,Bg5,Ne4,Nxe4,dxe4,Bf4,g6,e3,Bg7,Ne2,Qa5+,Nc3,e5,dxe5,Bxe5,Bxe5,Qxe5,Be2,Na6,O-O,Be6,Qc2,f5,a3,Rd8,Rad1,O-O,b4,c5,b5,Nc7,a4,b6,Rd2,Rxd2,Qxd2,Qf6,Rd1,Qf7,Nd5,Bxd5,cxd5,Rd8,Bc4,Ne8,Qc3,Nd6,Bb3,Qg7,Qc2,c4,Ba2,Rc8,h3,Rc5,Rd4,c3,Bb3,Qe5,g3,g5,Rd1,f4,gxf4,gxf4,Kh1,Qf5,Rg1+,Kf8,Kh2,f3,Rg4,Qe5+,Rf4+,Ke7,Qd1,c2,Bxc2,Qb2,Qg1,Rxc2,Qg5+,Kd7,Kg3,Rxf2,Kh4,Rg2,Rg4,Rxg4+,Qxg4+,Ke7', 'Qe6+,Kf8,Qxd6+', 'https://lichess.org/training/vwwQX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VwxAq', 'Classical', 'RookInMyAss', 1685, 'TheTokenSurvivor', 1717, 'd4,d5,c4,dxc4,Nc3,e6,e4,Bb4,Bxc4,Nf6,Bg5,Nbd7,Nf3,h6,Bxf6,Nxf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/VwxAq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vwxb6', 'Bullet', 'MizginBae', 2136, 'rmcgre', 1729, 'b3,Nf6,Bb2,g6,e3,Bg7,Nc3,O-O,h3,d5,g4,c5,Nf3,d4,exd4,cxd4,Nb5,Nc6,Qe2,Re8,O-O-O,e5,d3,e4,Nfxd4,exd3,Qxd3,Nxd4,Nxd4,Nd7,f4,Nb6,Bg2,Bxd4,Bxd4,Re7,f5,Rd7,fxg6,fxg6,Qe4,Nd5,Qe6+,Kf8,Bc5+,Ne7,Rhf1+,Kg7,Bd4+,Kh6,Qe3+,g5,Qe6+,Ng6,Bf6', 'Rxd1+,Rxd1,Qxd1+,Kxd1,Bxe6', 'https://lichess.org/training/vwxb6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vwZIp', 'Rapid', 'lenjani84', 1936, 'MuazM10', 1917, 'Nf3,c5,c4,g6,Nc3,Bg7,d4,cxd4,Nxd4,e6,e3,Ne7,Bd3,O-O,O-O,Nbc6,Nce2,b6,b3,Bb7,Bb2,Nb4,a3,Nxd3,Qxd3,d5,Rab1,Ba6,Qc2,Rc8,Rfc1,dxc4,bxc4,Bxc4,Qa4,b5,Qxa7,e5,Rxc4,bxc4,Nf3,Nd5,Bxe5,Bxe5,Nxe5,c3,Qd4,c2,Rc1,Qa5,Nd7,Rfd8,e4,Ne7,Nf6+,Kg7,Nh5+,Kf8', 'Qg7+,Ke8,Nf6#', 'https://lichess.org/training/vwZIp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vwzX0', 'Rapid', 'ksrahula', 1971, 'premkrokuss', 1901, 'e4,d6,d4,g6,Nc3,Bg7,Be3,a6,Qd2,b5,h4,h5,g3,Nf6,Bg2,Ng4,Bf4,e5,dxe5,Nxe5,Nf3,Nc4,Qd5,c6,Qd3,Nxb2,Qe3,Nc4,Qd3,b4,Na4,Bxa1,Qxc4,a5,e5,dxe5,Bxe5,Bxe5,Nxe5,Qe7,Bxc6+,Nxc6,Qxc6+,Kf8,Qxa8,Qxe5+,Kf1,Qb5+,Kg1,Kg7,Nb2,Bb7,Qa7,Bxh1,Qd4+,Kh7,Kxh1,Qf1+,Kh2,Re8,Qf6,Kg8,Nd3,Qe2,Qc6,Re6,Qa8+,Kg7,Qxa5,Qxc2,Qd5,Qc3,Nf4,Rf6,Qg5,Qf3,Nh3,Qe2,Kg2,Qxa2,Nf4,Rxf4,Qxf4,Qd5+,f3,b3,Qe3,b2,Qc3+,Kh6', 'Qh8#', 'https://lichess.org/training/vwzX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VwzXb', 'Classical', 'Ak001', 1760, 'expert_21', 1726, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,d5,exd5,Nxd5,d4,exd4,cxd4,Bb4,Bd2,Be6,Bxb4,Ncxb4,Bxd5,Nxd5,Nc3,a5,Nxd5,Bxd5,a4,c6,Re1,b5,b3,b4,Rc1,Re8,Ne5,Rc8,Nc4,c5', 'Rxe8+,Qxe8,Nd6,Qe6,Nxc8', 'https://lichess.org/training/VwzXb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vx0AK', 'Rapid', 'Aholbert', 1636, 'GilbertoCano', 1647, 'e4,c5,d3,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Qxe2+,Bxe2,Nf6,Bf3,Nc6,Be3,e6,h3,Bd7,Nge2,Be7,O-O,O-O,a3,b6,Nb5,a6,Nbc3,Rad8,b3,Ne5,Be4,Bc6,f4,Nxe4,Nxe4,Bxe4,dxe4,Ng6,e5,Rd7,c4,Re8,Rab1,Red8,Rfe1,Rd3,Kf2,f6,exf6,Bxf6,b4,Rxa3,bxc5,bxc5,Bxc5,Ra2,Be3,Rc8,c5,Be7,Rec1,e5,f5,Nf4,Bxf4,exf4,Kf1,Rxc5,Rb8+,Kf7,Rxc5,Bxc5,Nxf4', 'Rf2+,Ke1,Rxf4', 'https://lichess.org/training/Vx0AK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vx1um', 'Rapid', 'dranno', 1736, 'zuzu1', 1676, 'b3,e5,Bb2,Nc6,e3,Bb4,Bb5,Nge7,Nf3,d6,Nc3,O-O,Ng5,h6,Nge4,d5,Nf6+,gxf6,Qh5,Kh7,O-O-O,Be6,h4,Rg8,Rhg1,Qf8,g4,Nd8,f4,c6,Bd3+,e4,Nxe4,dxe4,Bxe4+,f5,gxf5,Bd5,Bd3,f6,Rg6,Bf7,Rdg1,Bxg6,fxg6+,Kg7,Bd4,Nd5,e4,Nxf4,Qf5,Nxd3+,cxd3,Qe7,e5,Rf8,exf6+,Rxf6,Bxf6+,Qxf6,Qd7+,Kg8', 'Qh7+,Kf8,g7+', 'https://lichess.org/training/Vx1um');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vx2pE', 'Blitz', 'neomi_gurevich', 2082, 'CM Kingscrusher-YouTube', 2488, 'd4,Nc6,c4,e5,d5,Nce7,Nc3,Ng6,e4,Nf6,Be3,b6,Bd3,Bc5,Bxc5,bxc5,Nge2,d6,O-O,Ng4,h3,h5,Ng3,Nf4,Nf5,Bxf5,exf5,Qh4,Qf3,Rb8,Nb5,Kf8,b3,g5,fxg6,Kg7,gxf7,Rbf8,Bf5,Rxf7,Bxg4,hxg4,Qxg4+,Qxg4,hxg4', 'Ne2#', 'https://lichess.org/training/vx2pE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VX3Mx', 'Blitz', 'MilanLelich', 1806, 'oscar101', 1662, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Bb5,Qb6,Be3,a6,Bxc6,bxc6,Na4,Qb4+,c3,Qa5,dxc5,Nxc5,Nxc5,Bxc5,Bxc5,Qxc5,Nd4,a5,O-O,Ba6,Re1,O-O,Kh1,Qb6,Qg4,c5,f5,cxd4,f6,g6,Qg5,Kh8,cxd4,Bd3,Re3,Bf5,g4,Be4+,Rxe4,dxe4,Rg1,Qxd4,Rg3,Qd1+,Kg2,Qe2+,Kh3,Rab8,Rg2,Qf1,Kg3,Qf3+,Kh4,e3,Rg3,Qf2,Qh6,Rg8,Kg5,Rb5', 'Qxh7+,Kxh7,Rh3+,Qh4+,Rxh4#', 'https://lichess.org/training/VX3Mx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VX4fy', 'Classical', 'Jochenderknochen01', 1677, 'vincevincevvv', 1656, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nf3,Be7,Bd3,h6,Nc3,Bb4,a3,Bxc3+,bxc3,d6,Bf4,f6,e5,d5,Bg6+,Kd7,exf6', 'Qxf6,Bg3,Qxg6', 'https://lichess.org/training/VX4fy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vX7hL', 'Rapid', 'Jaschalomaeus', 1618, 'DixielandChess', 1632, 'e4,Nc6,Bc4,e6,Nf3,d5,exd5,exd5,Bb5,Bd7,O-O,Be7,d3,Nf6,Nc3,d4,Ne4,Nxe4,dxe4,Bc5,Bg5,f6,Bf4,g5,Bg3,h5,h4,g4,Nd2,Qe7,a4,O-O-O,Nc4,Qxe4,Qd2,a6,Rae1,Qd5,Na5,axb5,axb5,Nxa5,Qxa5,Kb8,Ra1,b6', 'Qa7+,Kc8,Qxc7#', 'https://lichess.org/training/vX7hL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VX9rm', 'Blitz', 'jimsprout', 1921, 'OptimalBread', 1935, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nxc6,Qxe4+,Be2,Qxc6,O-O,Nf6,Re1,Be7,Nc3,O-O,Bf4,d5,Bf3,Be6,Qd3,Rad8,Nb5,Rd7,Nd4,Qb6,Re2,c5,Nxe6,fxe6,Rae1,c4,Qd2,Qxb2,Rxe6,Bb4,Qe2,Bxe1,Qxe1,d4,Be5,Rdf7,Bxf6,Rxf6,Rxf6,Rxf6', 'Qe8+,Rf8,Bd5+,Kh8,Qxf8#', 'https://lichess.org/training/VX9rm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXaiz', 'Rapid', 'Yurko_56', 1865, 'avelpic', 1886, 'e4,d6,Bc4,Nd7,d3,c5,Nf3,a6,a4,g6,h3,Ngf6,Bg5,Bg7,c3,O-O,Nbd2,Qb6,b3,e6,a5,Qc7,d4,cxd4,Nxd4,d5,exd5,exd5,Bxf6,Nxf6,Be2,Qxc3,Nf3,Ne4,Rc1,Qxa5,Bd3,Bf5,Bxe4,dxe4,Nh2,e3,fxe3,Bd3,Nf3,Rfe8,Kf2,Rad8,Qe1,Bh6,Nc4,Bxc4', 'Qxa5,Bxe3+,Kg3', 'https://lichess.org/training/VXaiz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXaRj', 'Blitz', 'Lotario', 1726, 'desmondhume23', 1726, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,Nf6,e5,d5,exd6,O-O,dxc7,Qxc7,cxd4,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd3,Rad8,Bb2,Nf3+,Qxf3,Qxc4,Bxf6,gxf6,Qxf6,Rde8,Qg5+,Kh8,Qxa5,Rg8,Nd2,Qc6,g3,Re2,Rac1', 'Rxg3+,fxg3,Qg2#', 'https://lichess.org/training/VXaRj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vxat4', 'Classical', 'Chessman050505', 1828, 'ikincicilt', 1802, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bg4,cxd5,cxd5,e3,Nc6,Bb5,a6,Bxc6+,bxc6,Qa4,Bxf3,Qxc6+,Nd7,gxf3,e6,e4,dxe4,fxe4,Be7,Rg1,O-O,Bh6,Bf6,e5,Kh8,exf6,gxh6,Ne4,Nxf6,O-O-O', 'Rc8,Qxc8,Qxc8+', 'https://lichess.org/training/Vxat4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXB6P', 'Rapid', 'Benderis', 1807, 'jeekiii', 1853, 'e4,d6,d4,e5,d5,c6,Nc3,f5,Nf3,Nf6,exf5,Bxf5,Bg5,Be7,Bd3,e4,Bxf6,Bxf6,Bxe4', 'Bxc3+,bxc3,Bxe4', 'https://lichess.org/training/VXB6P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vxcOb', 'Blitz', 'kaplumba_a', 1752, 'melik34', 1720, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,e6,d3,b6,Qf3,c6,a3,Bb7,Nge2,Nd7,Bf4,Ngf6,O-O-O,Be7,Ne4,Nxe4,dxe4,O-O,Ng3,Qe8,Nh5,Nf6,Nxf6+,Bxf6,e5,Be7,Qg3,Kh8,Bd3,c5,h4,a6,h5,b5,h6,g6,Bg5,c4,Qf4,cxd3,Bf6+,Kg8,Rxd3,Bxg2,Rg1,Bd5,Rdg3,b4,axb4,Rc8,c3,Rc4,Qd2,Be4,Qe2,Bd5,Qh5,Qa4', 'Rxg6+,fxg6,Rxg6+,Kf7,Rg7#', 'https://lichess.org/training/vxcOb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXcpP', 'Rapid', 'Nowdy', 1722, 'israelpeafiel369', 1710, 'e4,d6,d4,e6,Nf3,Nc6,Nc3,a6,Bg5,Be7,Bxe7,Ngxe7,Bc4,d5,exd5,exd5,Bb3,O-O,O-O,Bg4,Re1,Ng6,Nxd5,Bxf3,Qxf3,Nxd4,Qe4,Nxb3,axb3,Re8,Qc4,c6', 'Rxe8+,Qxe8,Nc7,Qd8,Nxa8', 'https://lichess.org/training/VXcpP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vxd4e', 'Rapid', 'trrrasss', 1608, 'naveen1975', 1636, 'e4,a6,d4,d6,c4,b5,Nf3,Bd7,Nc3,b4,Na4,e6,Bd2,a5,a3,bxa3,bxa3,Nc6,Be2,Nge7,O-O,g6,d5,Ne5,Nxe5,dxe5,dxe6,Bxe6,Nc5,Bg7,Nxe6,fxe6,Qa4+,c6,Bxa5,Rxa5,Qb4,O-O,Rad1,Qc7,c5,Raa8,Rd6,Rfb8,Qc4,Kh8,Qxe6,Ng8,Rxc6,Qa5,Qf7,Ra7,Qe6,Qxa3,Bc4,Rab7', 'Rc8,Rxc8,Qxc8', 'https://lichess.org/training/Vxd4e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vXd8k', 'Rapid', 'krzychu01', 1869, 'Sweep105', 1897, 'e4,c5,g3,d6,Bg2,Nf6,d3,Nc6,Bg5,e6,Ne2,Be7,f4,h6,Bxf6,Bxf6,Nbc3,O-O,h4,Rb8,Qd2,a6,a3,b5,Qe3,b4,Nd1,Qc7,c3,bxc3,bxc3,Bd7,g4,h5,gxh5,Rb3,h6,g6,h5,Kh7,hxg6+,fxg6,Nf2,Rfb8,O-O,Qd8,Ng4,Bxc3,Nxc3,Rxc3,e5,dxe5,fxe5,Rbb3,Nf6+,Kh8,Qg3,Be8,Be4,Qd4+,Kh1,Nxe5,Nxe8', 'Qxe4+,dxe4,Rxg3', 'https://lichess.org/training/vXd8k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vXdE5', 'Blitz', 'Groundhopping', 2338, 'IM Dinamo81', 2665, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,c6,g3,Bf5,d3,e6,Bf4,Qd8,Bg2,h6,Qe2,Nf6,O-O-O,Be7,h3,Na6,g4,Bh7,g5,Nd5,Be5,Bxg5+,Kb1,Nf4,Qf1,Nxg2,Qxg2,Bf6,Ne4,Bxe5,Nxe5,Rg8,Nc4,Qe7,Ned6+,Kf8,Qf3,Rd8,Ne4,Nc5,Ne5,f6,Rhg1,Rd5,Ng4,Bf5,Ne3,Bxe4,dxe4,Rxd1+,Rxd1,Nd7,Ng2,Ne5,Qh5,Qe8,Qe2,Ke7,f4,Nf7,f5,Qc8,Nh4,Rd8,Rg1,Ng5,Ng6+,Kf7,Qh5,Qc7,h4,Qb6,Rc1,Ke8,Ne5+,Ke7,Ng6+,Kd6,Rd1+,Kc7,Rxd8,Kxd8,a3,Kc7', 'hxg5,Qg1+,Ka2', 'https://lichess.org/training/vXdE5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXDY6', 'Blitz', 'alacon', 1770, 'Darkochaki', 1819, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,Nf3,b6,e3,Bb7,cxd5,Nxd5,Bxe7,Nxe7,Be2,O-O,O-O,c5,dxc5,bxc5,Qxd8,Rxd8,Rad1,Nbc6,Nb5,Rac8,Rxd8+,Rxd8,Nc3,Nd5,Ne4,Ncb4,a3,Nc6,Nxc5,Na5,Nxb7,Nxb7,Rd1,Nf6,Rxd8+,Nxd8,b4,Nc6,Nd4,Nxd4,exd4,Kf8,b5,Ke7,a4,Nd5,Bc4,Nc3,Bb3,Nb1,f3,Kd6,Kf2,Kc7,Ke3,Kb6,Kd3,Ka5,Kc2,Na3+,Kb2,Kb4,d5,exd5,Bxd5,f6,Bb3,Nc4+,Bxc4,Kxc4,Ka3,h5,g4,hxg4,fxg4,g6,h4,f5,gxf5,gxf5,h5,f4,h6,f3,h7,f2,h8=Q,f1=Q,Qc8+,Kd5,Qd7+,Ke5,Qc7+,Ke6,Qc6+,Ke7,Qb7+,Kd8,Qxa7,Qa1+,Kb4,Qb2+,Ka5,Qc3+,Ka6,Qf6+,b6,Qf1+,Kb7,Qf7+,Ka8,Qd5+,b7,Kc7,Qb8+,Kb6,a5+', 'Qxa5+,Qa7+,Qxa7#', 'https://lichess.org/training/VXDY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXe3a', 'Rapid', 'nppd', 1907, 'johhnybravo', 1982, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Bb5+,c6,Ba4,Bc5,d4,Bb6,O-O,O-O,Nc3,Nxc3,bxc3,h6,Ne5,Nd7,Bf4,Nxe5,Bxe5,Qg5,Qd3,Bf5,Qg3,Ba5,Qxg5,hxg5,Bd6,Bxc3,Bxf8,Bxa1,Bxg7,Kxg7,Rxa1,Re8,Kf1,a5,Bb3,b5,a4,b4,f3,f6,g4,Bg6,Kf2,Kf7,Rh1,Rh8,Kg3,Ke7,Rc1,Kd6,c3,Re8,cxb4,Rb8,b5,cxb5,axb5,Rxb5,Ba4,Rb4,Ra1,Rxd4,Kh3,Rd2,Bb5,Bd3,Rxa5,Bxb5,Rxb5,Ke5,Kg3,Kd4,h4,Ke3,Rb3+,Rd3', 'Rxd3+,Kxd3,h5', 'https://lichess.org/training/VXe3a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VxeIH', 'Rapid', 'almojtaba', 1936, 'SatMan', 1906, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,Re1,d6,c3,Nxe4,d4,Nf6,dxe5,dxe5,Nxe5', 'Qxd1,Bxf7+,Kf8,Rxd1,Nxe5', 'https://lichess.org/training/VxeIH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VxeLB', 'Rapid', 'divokaves', 1826, 'alatkon', 1932, 'e4,e5,Nf3,Qf6,d4,exd4,Nxd4,Bc5,Nf3,a6,Nc3,d6,Nd5,Qd8,Bg5,f6,Bh4,c6,Nc3,h5,Bg3,g5,h3,h4,Bh2,Qb6,Qe2', 'Qxb2,Rb1,Qxc3+', 'https://lichess.org/training/VxeLB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VxevN', 'Rapid', 'EvilSkeleton', 1708, 'Esrafil', 1703, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,Bc4,h6,d4,exd4,cxd4,Nf6,Nc3,Bg4,O-O,Be7,Be3,O-O,h3,Bh5,g4,Bg6,e5,dxe5,dxe5,Qxd1,Raxd1,Ne4,Rd7,Nxc3,bxc3,Be4,Nd2,Bg6,Rxc7,Rab8,f4,Rfd8,f5,Bh7,f6,gxf6,exf6,Bd6,Rxf7,Ne5,Rg7+,Kh8,Bb3,Rbc8,Bxh6,Rxc3,f7,Bc5+,Kh1,Rxh3+,Kg2,Rxh6,Rxh7+,Rxh7,Ne4,Bf8,Nf6,Rd2+,Kg3,Rd3+,Kf4,Ng6+,Kf5,Ne7+,Ke6,Re3+,Kd6,Nf5+,Kd5,Ne7+,Kd4,Rxb3,Nxh7,Rb4+,Kc5,Ng6+', 'Nxf8,b6+,Kxb4', 'https://lichess.org/training/VxevN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXGtz', 'Classical', 'HenriquezCarlosEA', 1843, 'TupacAlive1980', 1810, 'e4,c5,Nf3,Nc6,Bc4,b6,c3,e6,a3,d5,exd5,exd5,Bb5,Bb7,O-O,Qd6,Re1+,Be7,Ne5,a6,Bxc6+,Bxc6,d4,c4,Bg5,f6,Qh5+,g6,Nxg6,hxg6,Qxh8,O-O-O,Qh3+', 'Bd7,Qe3,fxg5', 'https://lichess.org/training/VXGtz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VxHZa', 'Rapid', 'Soultego', 1875, 'masterofpin', 1978, 'e4,c5,d4,cxd4,Nf3,e5,Bc4,Nf6,O-O,d6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Re1,Bd6,c3,Bc5,Bf4,Nc6,Nd2,Rf8,Ne4,Bb6,Ng5+,Kd6,Qxd5+,Kc7,Bxe5+,Nxe5,Qxe5+,Qd6,Qxg7+,Kb8,Rad1,Bg4,Ne4,Qf4,Rd3,dxc3,bxc3', 'Bxf2+,Kh1,Bxe1', 'https://lichess.org/training/VxHZa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vxim8', 'Blitz', 'GM Macrofago', 2634, 'FM Chessfis', 2605, 'e4,c5,Nc3,e6,g3,d5,exd5,exd5,Bg2,Nf6,Nge2,d4,Ne4,Nxe4,Bxe4,Be7,O-O,O-O,d3,Nc6,c3,Be6,cxd4,cxd4,Nf4,Bd7,a3,Rc8,Re1,Bd6,Bd2,b6,Rc1,Ne5,Qb3,Bg4,Qd5,Qd7,Kg2,Rxc1,Rxc1,g5,h3,gxf4,hxg4,fxg3,fxg3,Qxg4,Qxd6,Qe2+,Kh3,Qh5+,Kg2,Qe2+,Kh3,Qxd2,Rf1,Qg5,Rf5,Qg4+,Kg2,Ng6,Kf2,Rc8,Kg1,Rc1+,Rf1,Rc2,Rf2,Qd1+,Kg2,Rc1,Qd8+,Kg7,Qxd4+,Kh6,Qe3+,Kg7,Qd4+,Kh6,Qe3+,Kg7,Kh3', 'Qh5+,Kg2,Qh1#', 'https://lichess.org/training/vxim8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VxjUT', 'Classical', 'Real_GG', 1800, 'nico27', 1904, 'd4,Nf6,f3,d5,b3,e6,a3,c5,dxc5,Bxc5,Bb2,O-O,Qd2,Nc6,e3,e5,Nc3,d4,exd4,exd4,Ne4,Re8,Bd3,Nd5,O-O-O,Nc3,Nxc5,Nxd1,Qxd1', 'Qg5+,Kb1,Qxc5', 'https://lichess.org/training/VxjUT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vXkE0', 'Rapid', 'Pravarsh000', 1706, 'Irfaan1', 1728, 'd4,c6,c4,d5,cxd5,cxd5,e3,Nf6,Nc3,a6,Bd2,Bf5,Nf3,e6,a3,Nbd7,Qb3,Qc7,Be2,h6,O-O,Bd6,h3,O-O,Bd1,Ne4,Nxe4,Bxe4,Be2,b5,Rac1,Qd8,Rc3,Qf6,Rfc1,Rfd8,Bd1,Nf8,Be2,Ng6,g3,h5,h4,Bxg3,fxg3,Bxf3,Rf1,Nxh4,gxh4', 'Qg6+,Kf2,Qg2+,Ke1,Qxe2#', 'https://lichess.org/training/vXkE0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vxKhv', 'Rapid', 'Artem_leonidovich', 1676, 'floey7', 1683, 'e4,c6,Nf3,d5,Bc4,dxe4,Bxf7+,Kxf7,Ne5+,Ke8,Qh5+,g6,Nxg6,Nf6,Qh4,Rg8,Ne5,h5,Nc3,Rg4,Nxg4,Bxg4,O-O,Nbd7,Nxe4,Nxe4,f3,Bxf3,Rxf3,Nef6,Qg5,Kf7,Qxh5+,Kg8,Rg3+,Bg7,Qh3,Qe8,d4,Nh5,Qe6+,Kh8,Rh3,Bxd4+,Kh1,Bf6,g4,Kg7,gxh5,Ne5,Rg3+,Kh7,Be3,Rd8,Rag1,Nf7,Rg7+,Bxg7', 'Qg6+,Kh8,Qxg7#', 'https://lichess.org/training/vxKhv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXKU6', 'Blitz', 'IM HelloItsDimitri', 2459, 'Zora287', 2567, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nf6,Nc3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Bg5,e6,O-O-O,h6,Bh4,Be7,e5,dxe5,Qxd8+,Rxd8,Nxe5,g5,Nxc6,bxc6,Bg3,Nd5,Be5,f6,Bd4,c5,Nxd5,Rxd5,Bc3,Kf7,Rd2,Rhd8,Rhd1,Bd6,h3', 'Bf4,g3,Bxd2+', 'https://lichess.org/training/VXKU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXlyn', 'Rapid', 'Sanayasharma786', 1749, 'myrcea88', 1750, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bd2,Bd7,Bd3,Nc6,Nb3,Be6,O-O,Bxb3,axb3,Ne5,Re1,Nxd3,cxd3,Qd7,Qc2,a6,d4,O-O,d5,Qg4,e5,dxe5,Rxe5,Bd6,h3,Qd4,Rf5,Rae8,Be3,Qh4', 'Bg5,Qh5,Bxf6', 'https://lichess.org/training/VXlyn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vXmql', 'Rapid', 'paufe', 1574, 'Overlord9000', 1581, 'd4,d5,Bf4,Nc6,Nf3,Nf6,e3,Ne4,Nbd2,e6,Bd3,Bb4,c3,Nxd2,Qxd2,Bd6,Bg3,Bxg3,hxg3,h6,O-O-O,Bd7,Ne5,Nxe5,dxe5,Qe7,e4,O-O-O,exd5,exd5,Be2,Qxe5,Bf3,Be6,Rh5,Qf6,Bxd5,Bxd5,Rxd5,Rxd5,Qxd5,Qxf2', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/vXmql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXMR5', 'Rapid', 'romvil', 1688, 'yavi19', 1721, 'e4,f5,e5,Nc6,d4,d6,exd6,Qxd6,Bb5,Bd7,Bxc6,Bxc6,f3,O-O-O,c3,e5,Ne2,Nf6,Na3,Qd5,Be3,e4,c4,Qa5+,Bd2,Qa6,fxe4,Bxe4,O-O,g6,Bf4,Bxa3,bxa3,Qxa3,Be5,Rhf8,Nf4,Qe7,Qb3,Ng4,c5,Qh4,Ne6,Bd5,Qa3,Bxe6,Qxa7,Nxe5,dxe5,Bd5,Rad1,Qe4,Rf3,Qxe5,Rfd3,Qe4', 'Qa8+,Kd7,Rxd5+,Qxd5,Rxd5+', 'https://lichess.org/training/VXMR5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vxn0h', 'Blitz', 'Policman', 1527, 'eurobono', 1568, 'Nf3,c5,d3,e6,g3,a6,Bg2,b5,O-O,Bb7,Nc3,Nc6,e4,Nf6,Re1,Be7,e5,Ng4,Nh4,b4,Ne4,Ngxe5,Bf4,Bxh4,Bxe5,Nxe5,Nxc5,Bxg2,Kxg2,Bf6,d4,Ng6,d5,Qb6,Nxd7,Kxd7,dxe6+,Ke7', 'Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/Vxn0h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vXodk', 'Rapid', 'Phoye', 1974, 'misozezelj', 1977, 'd4,Nf6,Nf3,d5,Bf4,e6,e3,c5,c4,Nc6,Bd3,dxc4,Bxc4,cxd4,Nxd4,Nxd4,Qxd4,Qxd4,exd4,Bb4+,Nc3,Nd5,Bd2,Nxc3,bxc3,Bd6,Bb5+,Ke7,O-O,a6,Bd3,b5,Be4,Rb8,Rfc1,Bb7,f3,f5,Bxb7,Rxb7,c4,bxc4,Rxc4,h6,Rc6,Ra7,a4,Kd7,Rac1,a5,h3,Rb8', 'Rxd6+,Kxd6,Bf4+,Ke7,Bxb8', 'https://lichess.org/training/vXodk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vXoJh', 'Bullet', 'Shanghaiblues', 1946, 'Peinesito', 1988, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,Qe2,d6,c3,Be7,h3,O-O,d3,Na5,Bc2,c5,Nbd2,Nc6,Nf1,Bb7,g4,Qc7,Ng3,Rfe8,Nf5,Bf8,g5,Nd7,h4,Nb6,h5,d5,g6,f6,h6,hxg6,hxg7,Bxg7,Nxg7,Qxg7,Bh6,Qf7,O-O-O,c4,Rdg1,cxd3,Bxd3,dxe4,Bxe4,f5,Ng5,Qxa2,Bb1,Qc4,Bd3,Qa4,Bxf5,Nd4,cxd4,Rac8+,Kb1,exd4,Bxg6,Rxe2,Bf7+,Kh8', 'Bf8+,Bxh1,Rxh1#', 'https://lichess.org/training/vXoJh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VxOLS', 'Blitz', 'Seviman76', 1613, 'fchelia', 1706, 'e4,c5,Nf3,Nc6,Bc4,d6,h3,g6,O-O,Bg7,d3,Nf6,c3,O-O,Ng5,a6,a4,Ne5,Ba2,h6,f4,Nc6,Nf3,Nh5,Qe1,b5,g4,Nf6,Qh4,b4,f5,g5,Bxg5,hxg5,Nxg5,Ne5,d4,cxd4,cxd4,Nd3,Nd2,Nxb2,e5,dxe5,Nde4,Qxd4+,Rf2,Nd3', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/VxOLS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXomJ', 'Rapid', 'ili_fikro', 1963, 'vas-vas51', 2056, 'e4,e5,Bc4,Nf6,Nc3,Nc6,a3,Bc5,h3,d6,Ba2,Be6,b3,O-O,d3,d5,f3,Bd4,Nge2,Nh5,h4,Bb6,g4,Nf6,Ng3,Qd7,Bg5,Ne8,Qd2,f6,Nf5,fxg5,hxg5,Rd8,O-O-O,Nd4,g6,hxg6,Qh2,gxf5,Qh7+,Kf7,gxf5,Nxf5,exd5,Bxd5,Nxd5,Qxd5,Qxf5+,Nf6,Kb1,Ke7,b4,Qd4,Qg5,Kd6,Qxg7,Qc3,Rh6,Bd4', 'Rxf6+,Rxf6,Qxf6+,Kd7,Qe6#', 'https://lichess.org/training/VXomJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vXoxq', 'Rapid', 'Bummmmmmmm', 1643, 'CarstenRiedl', 1676, 'd4,d5,c4,Nf6,Nc3,Bf5,e3,e6,Nf3,Bb4,Bd2,Ne4,cxd5,exd5,Bb5+,c6,Ba4,b5,Bb3,O-O', 'Nxe4,Bxe4,Bxb4', 'https://lichess.org/training/vXoxq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VxPCe', 'Rapid', 'oldjerry', 1739, 'mamoot5514', 1752, 'c4,c5,g3,Nc6,Nc3,Nf6,Bg2,g6,e3,Bg7,Nge2,O-O,O-O,e6,d4,cxd4,Nxd4,Re8,b3,d6,Nxc6,bxc6,Bxc6,Ba6,Bxe8,Qxe8,Qxd6,Bb7,Bb2,Rd8,Qb4,Qc6,f3,Ng4,e4,Ne5,Qb5,Qc7,Na4,a6,Qb6,Qxb6+,Nxb6,Nxf3+,Rxf3', 'Bxb2,Re1,Bd4+,Kf1,Bxb6', 'https://lichess.org/training/VxPCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXpFJ', 'Blitz', 'wOBAwOBA', 2024, 'AnimeshTiwarichess1', 2030, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,e6,e4,Nf6,e5,Nfd7,Nc3,c5,d5,exd5,Qxd5,Qe7,Bf4,Nb6,Qe4,Nc6,O-O-O,g6,Bg5,Qc7,Bb5,Bd7,Bf6,Rg8,Rxd7,Qxd7,Rd1,Qc7,e6,Be7,Bxc6+,bxc6,exf7+,Kxf7,Be5,Qb7,Ng5+,Bxg5+,Kb1,Bf6,Bxf6,Kxf6,Qf4+,Kg7,Ne4,Rgf8,Qg5,Rf5,Qh4,Re8,Rd6,Qf7,Ng5,Qe7', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/VXpFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vxpl9', 'Rapid', 'sobhiali', 1693, 'Bigggoron', 1607, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Nf6,O-O,e6,Bg5,Be7,Nbd2,h6,Bh4,O-O,Ne5,Bxe2,Qxe2,Nc6,c3,Nxe5,Bxf6,Bxf6,dxe5,Bg5,f4,Bh4,Nf3,Be7,Kh1,a6,Nd4,Bc5,f5,Qb6,Rab1,Bxd4,f6,Bc5,Qg4,g6,b4,Be3,Rf3,Rac8,h4,h5,Qg3,Rxc3,Re1,Bd2,Rxc3,Bxe1,Qxe1,Qxb4,Qe3,Kh7,Rb3,Qxh4+,Kg1,b5,Ra3,Ra8,Rc3,b4,Rc7,Rf8,Qc5,Qe1+,Kh2,Qxe5+,g3,Qe2+,Kh3,Qf1+,Kh2,Qe2+,Kh3,Qf1+,Kh2,Kg8', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/vxpl9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vXPrQ', 'Rapid', 'gbku', 2079, 'vostok15', 2080, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,d6,Ng3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nc3,Be6,Nd5,O-O,a3,Bh4,Bc4,f5,exf5,Bf7,Qg4,Bf6,O-O-O,Kh8,Nh5,Bxd5,Bxd5,Nd4,c3,Nb5,Rhe1,Qa5,Re3,Rac8,Rg3,Nxc3,Nxf6,Ne2+,Kb1,Nxg3,hxg3,Rxf6,Qh5,Qc7,Rh1,Qc2+,Ka1,Rh6,Qd1,Rxh1,Qxh1,Qxf2,Qh5,Qxg3,Qf7,Qg5,Qxb7,Qc1+,Ka2,Qc7,Qb3,Rb8,Qd3,Qb6,b4,Qf2+,Kb3,Rc8,Bb7,Rc7,Be4,h6,Qxd6,Qe3+,Ka4,Rc3', 'Qf8+,Kh7,f6+,Qxe4,Qxg7#', 'https://lichess.org/training/vXPrQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vXqG6', 'Rapid', 'iraj_jalali', 1809, 'sdsdsdd', 1779, 'e4,e5,Nf3,Nf6,Bc4,Nc6,Nc3,Bb4,Qe2,Bxc3,dxc3,d6,O-O,h6,Re1,Bg4,Qe3,a6,a3,Na5,Be2,Qe7,b3,O-O-O,Bd2,d5,exd5,Nxd5,Qxe5,Qxe5,Nxe5,Bxe2,Rxe2,f6,Nf7,Rde8,Nxh8,Rxe2,Rd1,Nc6,Kf1,Re7,Ng6,Rd7,c4', 'Nc3,Ke1,Nxd1', 'https://lichess.org/training/vXqG6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vxQWa', 'Rapid', 'erfaniian', 1706, 'nachmaninov', 1653, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Bg4,d4,e6,O-O,Qh5,Be2,Nbd7,h3,Bxf3,Bxf3,Qg6,Nb5,Bd6,Bxb7,Rb8,Bc6,O-O,Nxa7,e5,Nb5,exd4,Nxd6,cxd6,Qxd4,Ne5,Qxd6,Nxc6,Qxc6,Rbc8,Qb7,Rxc2,Bf4,Nh5,Be3,Qe6,Bd4,Nf4,Qf3', 'Ne2+,Kh1,Nxd4', 'https://lichess.org/training/vxQWa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXr5I', 'Rapid', 'MadLoKi', 1753, 'fky2009', 1729, 'd4,Nf6,Bf4,d6,Nf3,g6,e3,Bg7,Nbd2,O-O,h3,c6,Bd3,b5,a3,a5,c4,Ba6,O-O,Nbd7,Qe2,Qb6,Rab1,Rfc8,Rfc1,Rab8,cxb5,Bxb5,Bxb5,Qxb5,Qxb5,cxb5,b4,a4,e4,Nh5,Bh2,Bh6,g4,Bxd2,Nxd2,Ng7,e5,dxe5,dxe5,e6,Ne4,Ne8,Nd6,Nxd6,exd6,f5,Rxc8+,Rxc8,gxf5,exf5,Kg2,Kf7,Re1,Re8,Rc1,Rb8,Rc7,Ke6,Kf3,g5,Ke3,f4+,Ke4,Kxd6,Ra7,Ke6,h4,h6,f3,Rb6,Bg1,Rc6,hxg5,hxg5,Bd4,Nf6+,Kd3,Nd7,Rb7,Ne5+,Ke4,Nc4,Rxb5,Nxa3,Re5+,Kd6,Rxg5,Rc4,Kd3,Rxb4', 'Bc5+,Kc6,Bxb4', 'https://lichess.org/training/VXr5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXraI', 'Rapid', 'sev007', 1630, 'Fab27', 1603, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Bd2,Qxb2,Nc3,Qb6,e3,Bb4,a3,Bxc3,Bxc3,Qc5,Bb2,Nge7,Bd3,d6,exd6,Qxd6,O-O,Be6,Bxg7,Rg8,Bh6,Bh3,Nh4,O-O-O,Bf4,Qf6,Bg3,Bg4,f3,Be6,Qe2,h5,Rab1,Ng6,Nxg6,fxg6,Bb5,h4,Bf4,g5,Bxc6,gxf4,Bxb7+,Kb8,Bc6+,Kc8,Qb5,Rxg2+,Kxg2,Rg8+,Kf2,fxe3+,Ke1', 'Qc3+,Kd1,Qd2#', 'https://lichess.org/training/VXraI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vXSwL', 'Classical', 'Luei', 1733, 'ziroki', 1658, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,a6,Bc4,Nc6,Nxc6,bxc6,O-O,e6,Bd4,Nf6,Nc3,O-O,e5,Ne8,Ne4,d5,exd6,Bxd4,Qxd4,f5,Nc5,Qxd6,Qxd6,Nxd6,Nxe6,Nxc4,Nxf8,Kxf8,Rfd1,Nxb2,Rd8+,Ke7,Rh8,Kf6,Re1,Nc4,Ree8,Nd6,Rd8,Ke7,Rdg8,Kf6,c4,Nf7', 'Rxc8,Rxc8,Rxc8', 'https://lichess.org/training/vXSwL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vxtfK', 'Rapid', 'Jazz-Chess', 2299, 'Destrouyer', 1964, 'd4,Nf6,c4,d5,Nc3,Bf5,cxd5,Nxd5,Qb3,Nb6,Nf3,e6,e4,Bg6,Be3,a5,Bd3,a4,Qc2,a3,bxa3,Rxa3,Nb5,Bb4+,Kf1,Ra5,Nxc7+,Kf8,d5,Na8,Nxa8,Rxa8,dxe6,Nc6,exf7,Bxf7,Bc5+,Kg8,Bc4,Qf6,e5,Nxe5,Bd4', 'Bxc4+,Qxc4+,Nxc4,Bxf6,gxf6', 'https://lichess.org/training/vxtfK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VxVeJ', 'Rapid', 'rodeo', 1926, 'CrapCrusher', 1858, 'e4,e6,d4,d5,Nd2,c5,exd5,Qxd5,Ngf3,cxd4,Bc4,Qd8,O-O,Bc5,Nb3,Bb6,Nbxd4,Ne7,Be3,O-O,Ng5,h6,Qh5,Bxd4,Rad1,Qa5,Rxd4,Nbc6,Rh4,Ng6,Rh3,Nce5,Ne4', 'Nxc4,Qxa5,Nxa5', 'https://lichess.org/training/VxVeJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXVJe', 'Rapid', 'pavel505', 1681, 'corinthiansfc', 2079, 'e4,Nc6,Bb5,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Nxc6,bxc6,Ba4,Qh4,Qf3,Nf6,e5,Qxa4,exf6,gxf6,Qxf6,Rg8,O-O,Qxc2,Re1+,Be6,Nc3,Qg6,Qxg6,Rxg6,f4,Kd7,h3,Bxh3,Kh2,Bxg2,Rg1,Rh6+,Kxg2,Be7,Rh1', 'Rg8+,Kf1,Rxh1+', 'https://lichess.org/training/VXVJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXWEy', 'Blitz', 'maybeacat', 2147, 'LM Lance5500', 2554, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,f3,c5,dxc5,b6,Be3,bxc5,Bxc5,Qa5,Bd4,Nc6,Ne2,Rb8,Qd2,Nxd4,Nxd4,e6,Nb3', 'Rxb3,axb3,Qxa1+', 'https://lichess.org/training/VXWEy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VxwRU', 'Rapid', 'C71922091MADELEINE', 2182, 'C60474975KEO', 2307, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,Re1,h6,c3,Nf6,d4,exd4,cxd4,Bb4,Nc3,O-O,a3,Ba5,b4,Bb6,Bb2,Bg4,Be2,Bxf3,Bxf3,Nxd4,Nd5,Nxf3+,Qxf3,Nxd5,exd5,Qg5,Rad1,a5,bxa5,Rxa5,h3,Raa8,Bd4,Bxd4,Rxd4,Rfe8,Rde4,Rxe4,Rxe4,Qc1+,Kh2,Qxa3', 'Re8+,Rxe8,Qxa3', 'https://lichess.org/training/VxwRU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VXyGp', 'Rapid', 'Vishnurnair', 1926, 'Qqaf', 1743, 'd4,d5,c4,c6,Nf3,Nf6,e3,Bg4,cxd5,Nxd5,Nc3,Nf6,h3,Bh5,Be2,Nbd7,O-O,e6,b3,Bd6,Bb2,Bb8,g3,O-O,Nh2,Bg6,Bd3,Nh5,Kg2,Qg5,g4,f5,f4,Nxf4+,exf4,Qh4,Bc1,fxg4,Qxg4', 'Qxg4+,hxg4,Bxd3', 'https://lichess.org/training/VXyGp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VxZWb', 'Rapid', 'Oknotok77', 1746, 'STINOL', 1831, 'd4,d5,Bf4,Nf6,e3,e6,Bd3,c5,c3,c4,Bc2,b5,Nd2,Bb7,Ngf3,Be7,h3,O-O,Ne5,Nc6,Qf3,Nxe5,dxe5,Ne8,Bxh7+,Kxh7,Qh5+,Kg8,g4,a5,g5,b4,g6,fxg6,Qxg6,Bc8,Nf3,a4,Ng5,Rxf4', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/VxZWb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vy1fq', 'Rapid', 'itico', 2080, 'lthiagos', 2175, 'e4,c5,Nf3,e6,Nc3,Nc6,Bb5,Qc7,d4,cxd4,Nxd4,a6,Nxc6,dxc6,Be2,Nf6,O-O,e5,Be3,Be6,f3,Bb4,Na4,O-O,Bb6,Qe7,a3,Bd6,Qe1,Nd7,Be3,b5,Nc3,Bc5,Qf2,f6,Rfd1,Bxe3,Qxe3,Qc5,Kf2,Rfd8,Rd2,Kf7', 'Rxd7+,Bxd7,Qxc5', 'https://lichess.org/training/Vy1fq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vY2tM', 'Blitz', 'Pablo_Ugura', 1842, 'EternalOptimist', 1924, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,a6,Bxc6,dxc6,Nxe5,Nf6,c3,O-O,d4,Bb6,Bg5,h6,Bh4,g5,Bg3,Nxe4,Nd2,Nd6,f4,f6,Ng6,Rf7,fxg5,fxg5,Ne5,Rxf1+,Qxf1,Qe7,Re1,Bd7,Nxc6,Qg7,Be5,Qh7,Bxd6,Bxc6,Re7,Qg6,Bxc7,Bxc7,Rxc7,Rf8,Qc4+,Kh8,d5,Bb5,Qd4+,Kg8,d6', 'Qb1+,Nf1,Qxf1#', 'https://lichess.org/training/vY2tM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VY3QK', 'Classical', 'GermanHarriet', 1813, 'Kolkata_shanmajhi', 1752, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,c6,Bc4,d6,d3,Nf6,Bg5,Be7,Nd2,O-O,a3,Be6,Qe2,Nd7,Bxe6,Bxg5,Bxd7,Qxd7,Nf3,Bf6,Nd2,Rfe8,f4,c5,Qf3,b6,Rae1,g6,g4,Rac8,Qg3,Qb5,Nc4,Qc6,g5,Bg7,f5,Be5,Qh4,d5,Nxe5,Rxe5,Qh6,dxe4', 'f6,Rxg5+,Qxg5', 'https://lichess.org/training/VY3QK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vy6UC', 'Blitz', 'Ostrovitynin', 1917, 'richardson44', 1669, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,d6,Be3,Nf6,Bd3,Be7,O-O,Nbd7,Bg5,Nc5,Be2,O-O,Bxf6,Bxf6,Bf3,Qb6,Rb1,Nd7,Nde2,Ne5,Ng3,Nxf3+,Qxf3,e5,Nf5,Bxf5,exf5,Qd4,Nd5,Bd8,Rfd1,Qh4,g3,Qh3,Ne3,Bb6,Qxb7,Bxe3,fxe3,Qxf5,c3,Rfb8,Qd5,h6,Qxd6,Qf3,Qxe5,Re8,Qf4,Qe2,Re1,Qc2,Rf1,f6,Rfe1,Rad8,Rec1,Qe2,Qf2,Qd3,Rd1,Qe4,Rxd8', 'Qxb1+,Qf1,Qxf1+,Kxf1,Rxd8', 'https://lichess.org/training/Vy6UC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vy72z', 'Blitz', 'janovjas', 1655, 'TofKoenraad', 1685, 'd4,d5,c4,dxc4,Nf3,b5,e4,Bb7,d5,c6,Nc3,a6,Bf4,cxd5,Nxd5,Nf6,Nxf6+,exf6,Qxd8+,Kxd8,Rd1+,Nd7,Nd2,Bb4,a3,Ba5,b4,cxb3,Bd3,Re8,O-O,Bxd2,Bxd2,Bxe4,Bxe4,Rxe4,Bc3,Ra4,Bb2,a5,Rd3,b4,Rfd1,Ra7,axb4,Rxb4,Bc3,Rb5,Bb2,a4,Ba3,b2,Rb1,Kc7,Rxb2,Rxb2,Bxb2,Nc5,Rc3,Kd6,Ba3,Ra5,Rc4,Kd5,Rc1,Nb3,Rd1+,Ke4,f3+,Kf4,Kf2,Re5,Bd6,a3,Bxa3,Ra5,Bd6+,Kf5,g4+,Ke6,Bb4,Ra2+,Kg3,f5,gxf5+,Kxf5,Rd5+,Ke6,Rd6+,Kf5,Rd7,Kf6,Rd6+,Kf5,Rd5+,Kf6,Bc3+,Kg6,h4,Nc1', 'Rg5+,Kh6,Bxg7#', 'https://lichess.org/training/Vy72z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vyA3D', 'Rapid', 'lobiya', 1611, 'Vmusael', 1634, 'e4,e6,d4,d5,Nd2,Bb4,c3,Ba5,Ngf3,Nf6,e5,Ne4,Nxe4,dxe4,Nd2,Nc6,Nxe4,Nxd4,Bd2,Nc6,Bb5,Bd7,Nc5,Nxe5,Nxb7,Qb8', 'Bxd7+,Nxd7,Nxa5', 'https://lichess.org/training/vyA3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VyAHZ', 'Blitz', 'Shaba92', 1938, 'Spinolenko', 1835, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,e5,Nb3,Be6,c4,Nc6,Nc3,Be7,Be3,O-O,Be2,Rc8,Rc1,Na5,Nd5,Nxb3,Qxb3,b6,O-O,Nd7,Rfd1,f5,Nxe7+,Qxe7,Qd3,fxe4,fxe4,Rc6,b4,a6,b5,axb5,cxb5,Rxc1,Bxc1,d5,exd5,Nc5,d6,Qh4,Qe3,Bd5,Qxe5', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/VyAHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vyApr', 'Blitz', 'IHA1976', 1554, 'MBrandsma', 1557, 'e4,c5,Nf3,a6,Bc4,e6,e5,Nc6,a3,Qc7,O-O,Nxe5,Nxe5,Qxe5,Nc3,Bd6,g3,b5,Ba2,Bb7,d3,Nf6,Bf4,Qf5,Bxd6,Bf3,Qxf3,Qxf3,Ne4,Nxe4,dxe4,Qxe4,Bxc5,Qxc2,Be3,Qxb2,Rfb1,Qxa3,Bxe6,Qe7,Bd5,Rc8,Re1,O-O,Rad1,Qd8,Ra1,a5,Bd4,b4,Re4,d6,Rae1,Rc7,Bb6,Qb8,Bxc7,Qxc7,Re7,Qc3,Ra7,b3,Ree7,Qf6,Bxb3,g6,Bd5,Kg7,Reb7,Kh6,Rxa5,Rc8,Raa7,Rc1+,Kg2,Rc2,Bf3,d5', 'Rxf7,Qb6,Rxh7+,Kg5,h4+', 'https://lichess.org/training/vyApr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYBgL', 'Rapid', 'Allami1000', 1736, 'MaxBologna', 1733, 'e4,c5,g3,g6,Bg2,Bg7,Nf3,Nc6,O-O,e5,d3,Nge7,Nc3,O-O,Nd5,d6,Be3,Nxd5,exd5,Nd4,c3,Nxf3+,Bxf3,f5,Qd2,Qf6,Bg5,Qf7,c4,f4,gxf4,exf4,Rae1,h6,Be7,Re8,Bxd6,Bh3,Rxe8+,Rxe8,Re1,Rxe1+,Qxe1,Bd4,Qe7,Qxe7,Bxe7,Kf7,d6,Be5,Bxb7,Bd7,Bd5+,Ke8,Be4,Bf5,Bxf5,gxf5,Kg2,Kd7,Kh3,Bxd6,Bxd6,Kxd6,Kh4,Ke5,Kh5,Kd4,Kxh6,Kxd3,Kg5,f3,Kf4', 'Ke2,h4,Kxf2', 'https://lichess.org/training/VYBgL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYBjF', 'Rapid', 'Perekhoda_Aleksandr', 1740, 'IVANIV', 1780, 'd4,d5,Bf4,Nf6,e3,Ne4,Nd2,Nf6,Bd3,Nc6,c3,a6,Qc2,h6,Ngf3,g5,Bg3,g4,Ne5,h5,Nxc6,bxc6,Be5,Rg8,O-O-O,Nd7,Bg3,Nb6,Bf5,e6,Bd3,a5,h3,gxh3,gxh3,a4,e4,Ba6,exd5,cxd5,h4,c5,dxc5,Bxc5,Nf3,Nc4,Ne5,Nxb2,Kxb2,d4,Qxa4+,Kf8,Nd7+,Kg7,Nxc5,dxc3+,Kxc3,Qf6+,Qd4,Qxd4+,Kxd4,Rgd8+,Ke3,Bxd3,Rxd3,Rdc8,Be5+,Kf8,Bd6+,Ke8,a4,Ra5,Rg1,Raxc5,Bxc5,Rxc5,Rg5,Rc4,Rd4,Rc3+,Ke4,f5+,Ke5,Ke7,Rxh5,Rc5+,Kf4,e5+,Kxf5', 'exd4+,Kf4,Rxh5', 'https://lichess.org/training/VYBjF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vYBz4', 'Rapid', 'sambar10', 1766, 'Josefio', 1713, 'd4,d5,c4,c6,Nf3,e6,Bg5,Nf6,e3,Be7,Bf4,O-O,Bd3,Ne4,Nbd2,f5,Ne5,Nd7,Nxe4,fxe4,Be2,Bf6,Nxd7,Bxd7,c5,b6,Bd6,Be7,O-O,Bxd6,cxd6,c5,f3,cxd4,fxe4,dxe3,e5,Qg5,Rc1,Qxe5,Rc7,Qxd6,Rxf8+,Rxf8,Rxa7,e5,Qb3,Be6,Qxe3,d4,Qg5,Rf7,Ra6,Rc7,Ra8+,Kf7,Bh5+,g6,Bxg6+,hxg6,h4,Rc1+,Kf2,Rc2+,Kg1,Bd5,Ra7+,Ke6,Qg4+,Kf6', 'Qg5+,Ke6,Qxg6#', 'https://lichess.org/training/vYBz4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYcBG', 'Blitz', 'CM bishop1984', 2193, 'GM Urkis', 2506, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d6,c3,a6,Bb3,Ba7,Nbd2,h6,Re1,g5,Nf1,g4,N3d2,h5,Nc4,h4,Be3,h3,g3,d5,exd5,Qxd5,f3,gxf3,Qd2,Ng4,Bxa7', 'f2+,Qxf2,Nxf2', 'https://lichess.org/training/VYcBG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vYcTm', 'Rapid', 'Schachmatte2345', 1617, 'erkocbulut', 1642, 'd4,g6,Bf4,Bg7,Nc3,e6,e4,Qe7,Qd2,c5,d5,exd5,Qxd5,Nc6,Bc4,b6,Nb5,Rb8,Bxb8,Bb7,Bd6,Qh4,Nc7+,Kd8,Qxf7,Qxe4+,Ne2,Nd4,O-O-O', 'Qxc2#', 'https://lichess.org/training/vYcTm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vYDon', 'Rapid', 'klassak', 1743, 'mahmut1661', 1737, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Be7,e3,b6,Ne5,Ne4,Nxe4,dxe4,Bxe7,Qxe7,Qg4,Qb4+,Kd1,Qxb2,Rc1,O-O,Qxe4,Bb7,Bd3,g6,h4,f5,Qf3,Na6,Nxc6,Bxc6,Qxc6,Nb4,Qxe6+,Kg7,Rb1,Qc3,Qe7+,Rf7,Qxb4,Qxd3+,Kc1,Rc8,Qd2', 'Rxc4+,Kd1,Qxb1+', 'https://lichess.org/training/vYDon');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYdyw', 'Rapid', 'Tarek-Kayali', 1791, 'xxPradoxx', 1793, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qc7,Nc3,a6,Be2,e5,Nb3,Nf6,O-O,Be7,Kh1,O-O,f4,d6,Nd5,Qb8,Nxe7+,Nxe7,fxe5,Nxe4,exd6,Qxd6,Bf4,Qb6,Qd4,Qxd4,Nxd4,Bd7,Rac1,Ng6,Bd3,Nc5,Bc4,Nxf4,Rxf4,Rad8,b4,Ne6,Nxe6,Bxe6,Bxe6,fxe6,Re4,Rf6,Ree1,Rd2,Red1,Rff2,Rxd2,Rxd2,a4,e5,c4,e4,b5,a5,c5,e3,Kg1,e2,Kf2', 'Rd1,Kxe2,Rxc1', 'https://lichess.org/training/VYdyw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYEb4', 'Rapid', 'davidnes', 2135, 'elgranvirgilio', 2121, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,Be3,Qb6,Nc3,cxd4,Nxd4,Bb4,Nxf5,Bxc3+,bxc3,Qa5,Nd6+,Kf8,Bd2,Nd7,c4,Qc7,cxd5,Nxe5,Bb4,Ne7,dxe6,a5,Bc3', 'Qxc3+,Kf1,Rd8', 'https://lichess.org/training/VYEb4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vyehT', 'Classical', 'TacafogoBR', 1633, 'mesutmelek', 1647, 'd4,d5,c4,Bf5,Nf3,f6,Bf4,Nc6,e3,Nb4,Qa4+,Nc6,Nc3,Bd7,Qc2,e6,cxd5,Nb4,Qd2,Nxd5,Nxd5,exd5,h3,a5,a3,Bf5,Bd3,Be4,Rc1,c6,Qe2,Bd6,O-O,Ne7,Nd2,Bxf4,exf4,Bxd3,Qxd3,O-O,Nb3,Qd6,Rfe1,Ng6,g3,b5,Nc5,a4,Re6,Qc7,Qd2,Rfe8,Rce1,Rxe6,Rxe6,Nf8,Re3,Nd7,Re7,Rd8,Qe3,Qc8,Ne6,Re8,Rxg7+,Kh8,Rg4,Nf8,f5,Nxe6,fxe6,Rxe6', 'Qh6,Qg8,Rxg8+', 'https://lichess.org/training/vyehT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYFAV', 'Blitz', 'FM sergeikim2003', 2533, 'Lindokuhle-RSA', 2379, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Be7,Bf4,O-O,e3,c5,Bd3,cxd4,exd4,Nc6,a3,dxc4,Bxc4,b6,O-O,Bb7,Re1,Rc8,Ba2,h6,Rc1,Bd6,Ne5,Ne7,Qe2,Ned5,Bd2,Bxe5,dxe5,Nxc3,Rxc3,Rxc3,Bxc3,Ne4,Bb4,Re8,f3,Qd4+,Qe3,Qxb2,Bb1,Nc5,Rd1,Bd5,h4,Rc8,Kh2,a5,Bc3,Qb3,Rc1,Qxa3,h5,Na4,Qd3,Rxc3,Qh7+,Kf8,Re1,Rc1,Re2,Rxb1,Qxb1,Nc3,Qxb6,Nxe2', 'Qd8#', 'https://lichess.org/training/VYFAV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYFus', 'Rapid', 'Indonesian_Warrior', 1649, 'AlissonCosta', 1744, 'd4,d5,e4,c6,Nc3,e6,e5,c5,Bb5+,Bd7,Nf3,Qa5,Bxd7+,Nxd7,O-O,cxd4,Qxd4,Bc5,Qa4,Bb6,b4,Qxa4,Nxa4,Ne7,Bb2,O-O,Rad1,Ng6,c4,d4,c5,Bc7,Rxd4,Ndxe5,Nxe5,Bxe5,Re4,Bxb2,Nxb2,Rfd8,Nc4,Rac8,Nd6,Rc7,Rc1,b6,Nb5,Rcd7,Ree1,bxc5,bxc5,Nf4,Rb1,Rc8,Nd6,Rcd8,Red1,g6,Kf1,Kg7,g3,Nd5,Rb3,Rc7,Rc1', 'Rxd6,cxd6,Rxc1+', 'https://lichess.org/training/VYFus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vyGXA', 'Rapid', 'GioGogola', 2307, 'aleko19', 2228, 'e4,e6,d3,b6,Nf3,Bb7,g3,g6,Bg2,Bg7,O-O,Ne7,Nbd2,O-O,Re1,Nbc6,h4,h5,Nf1,f5,c3,fxe4,dxe4,Ne5,Nxe5,Bxe5,Bg5,Qe8,Qc2,Bg7,Rad1,e5,Ne3,d6,Rd2,Kh7,c4,Nc6,Nd5,Qf7,Qd1,Nd4,f4,c5,Rf1,exf4,gxf4,Rae8,e5,Qd7,Nf6+,Bxf6,Bxf6,Bxg2,Rxg2,dxe5,fxe5,Qh3,Qb1,Rg8,Qe4,Qd7,Rg5,Nf5,Kh2,Qd2+,Rg2,Qd7,Rfg1,Qf7,Qd3,Re6,Rg5,Rxf6,exf6,Qxf6,Rd1,Nxh4', 'Rxh5+,Kg7,Qd7+', 'https://lichess.org/training/vyGXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYH5r', 'Classical', 'kushagarwal', 1731, 'kubabuba12', 1694, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,Bb6,O-O,Nf6,Bg5,Qe7,dxe5,Nxe5,Nxe5,dxe5,Nd2,Bg4,Qxg4,Nxg4,Bxe7,Kxe7,Nf3,Rad8,h3,Bxf2+,Kh1,Ne3,Rxf2,Nxc4,b3,Ne3,Nxe5,f6,Nf3,c5,Re1,Rd1,Rxd1,Nxd1,Rd2,Nxc3,e5,Rd8,exf6+,gxf6,Rc2,Rd1+,Kh2,Ne4,Re2,f5,g4,Kf6,gxf5,Kxf5,Nh4+,Kf4,Ng2+,Kf3', 'Re3+,Kf2,Rxe4', 'https://lichess.org/training/VYH5r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vYiBC', 'Blitz', 'faraday007', 2065, 'Akklex', 2018, 'e4,c6,d4,d5,exd5,cxd5,c4,Nc6,cxd5,Qxd5,Nf3,Nf6,Nc3,Qa5,Bd2,Bg4,Be2,e6,Ne4,Qb6,Nxf6+,gxf6,O-O,Bxf3,Bxf3,Nxd4,Bc3,Nxf3+,Qxf3,Be7,Bxf6,Rg8,Bxe7,Kxe7,Qf4,Qc6,f3,Qc5+,Kh1,h5,Rac1,Qg5,Rc7+,Kd8,Qd6+,Ke8', 'Qd7+,Kf8,Qxf7#', 'https://lichess.org/training/vYiBC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VyJoM', 'Rapid', 'CristianIca16', 1988, 'islamyousif', 1916, 'd4,d5,Nf3,Nf6,Bg5,e6,e3,Be7,c4,Nbd7,Nc3,h6,Bh4,dxc4,Bxc4,Nh7,Bg3,Ng5,O-O,O-O,Rc1,c6,Bd3,Nxf3+,Qxf3,Nb6,Rfd1,Nd5,Qe4,f5,Qf3,Nf6,Bc4,Qe8,Qxf5,Nd5,Qe4,Qh5,Bd3,Nf6,Qe5,Qf7,Ne4,Ng4,Qa5,Bd8,Qd2,Bc7,Bxc7,Qxc7,h3,Qh2+,Kf1,Qh1+,Ke2,Qxg2,hxg4,e5,Rg1', 'Bxg4+,Ke1,Qxg1+', 'https://lichess.org/training/VyJoM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VyjOU', 'Rapid', 'maherSami', 1660, 'stenz5', 1793, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bf5,Nf3,Qc5,d4,Qa5,O-O,Nc6,a3,a6,b4,Qb6,Nd5,Qa7,Nxc7+,Kd7,Nxa8,Qxa8,Ne5+,Nxe5,dxe5+,Kc8,Bg4,Bxg4,Qxg4+,e6,Rd1,Qb8,Bf4,Ne7,Rd3,Qc7,Rad1,h5,Qf3,Nd5,c4,Nxf4,Rd8+,Qxd8,Rxd8+,Kxd8,Qxf4,Be7,Qxf7,Kd7,Qxg7,Rc8,c5,b6,h3,bxc5,bxc5,Rxc5,Qh8,h4,Qb8,Rb5,Qa7+,Ke8,Qxa6,Rxe5,Qb7,Re1+,Kh2,Bd6+,g3,hxg3+,fxg3,Re2+,Kh1,Re1+,Kg2,Ra1,Qc6+,Ke7,a4,Ra2+,Kf3,Ra3+,Kg4,Rxg3+,Kh4,Ra3,Qb5,Bc7,Qb4+,Bd6,Qb7+,Kf6,Qc6,Bg3+,Kg4,Be5,h4,Rc3,Qg2,Rc4+,Kh5,Bd6,Qf1+,Rf4,Qa1+,Kf7,a5,Be7,Qh1,Rf5+,Kh6', 'Bf8+,Kh7,Rh5#', 'https://lichess.org/training/VyjOU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VylOW', 'Rapid', 'arachnoid', 2151, 'AleksandarTot', 2061, 'e4,Nc6,Nf3,d5,e5,Bg4,d4,f6,Bb5,Bd7,Bxc6,Bxc6,O-O,e6,exf6,Qxf6,Bg5,Qg6,Qd2,Be7,Bf4,O-O-O,Ne5,Qe8,Qa5,Kb8,Nf7,b6,Bxc7+,Kb7,Nxd8+,Bxd8,Bxb6,Bxb6,Qd2,Ne7,Re1,Qg6,c3,Rf8,Qe2,Bd7,Nd2,Kb8,Nf3,Nc6,b4,Qf5,b5,Ne7,Ne5,Be8,a4,Rf6,a5,Bc7,b6,axb6,axb6,Bxb6,Reb1,Nc8,Qa6,Qxf2+,Kh1,Kc7,Ng4,Qf4,Nxf6,gxf6,Rb3,Bg6,Rf1,Qd2,Rxf6', 'Qd1+,Qf1,Qxb3', 'https://lichess.org/training/VylOW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vYM6n', 'Rapid', 'Horsrider', 2091, 'Elanidrac', 1995, 'd4,Nf6,Nf3,d5,Bf4,Bf5,e3,e6,Bd3,Ne4,a3,c5,c4,Qa5+,Kf1,dxc4,Bxc4,Nc6,dxc5,Rd8,Qb3,Nxc5,Qb5,Qxb5,Bxb5,Rd1+,Ne1,Bd3+,Bxd3,Nxd3,Ke2,Nxb2,Rf1,e5,Bg3,f5,Nf3,Rxf1,Kxf1,e4,Ne5,Nxe5,Bxe5,Nd3,Bd4,a6,Nd2,Kd7,a4,Bb4,Nc4,Rc8', 'Nb6+,Kc7,Nxc8', 'https://lichess.org/training/vYM6n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vYmxX', 'Rapid', 'alam_syah', 1919, 'msalat', 1926, 'Nf3,d5,e4,c6,e5,Bf5,d4,e6,h3,Be7,Nc3,Nd7,a4,Nb6,b3,Bb4,Bb2,a5,Bd3,Nh6,O-O,O-O,Ne2,c5,c3,Bxd3,Qxd3,c4,bxc4,Nxc4,Bc1,Be7,Bxh6,gxh6,Rfb1,b6,Nd2,Rc8,Nf4,Bg5,Nxc4,Rxc4,Qg3,Kh8,Nh5,Rg8,Qf3,Qc7,Rb3,Rg6,Rab1,Rc6,Kh1,Bd2,Nf6,Rxc3,Rxc3,Qxc3,Qxc3,Bxc3,Rxb6,Kg7,Ne8+,Kf8,Rb8,Bxd4,Nf6+,Ke7', 'Re8#', 'https://lichess.org/training/vYmxX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYNCX', 'Rapid', 'HiGain', 1825, 'viclen', 1919, 'e4,e6,Nf3,d5,e5,c5,c4,Ne7,b3,Nec6,Bb2,Be7,Be2,dxc4,bxc4,O-O,O-O,Nd7,d3,Qc7,Re1,Ndxe5,Nxe5,Nxe5,Bg4,Nxg4,Qxg4,g6,Qh3,Bd6,Qh6,e5,f4,f6,fxe5,fxe5,Nd2,Qg7,Qxg7+,Kxg7,Ne4,Bc7,Nxc5,Re8,Ne4,Bf5,h3,Bxe4,dxe4,Kf6,g4,Ke6,Rf1,Rf8,Rxf8,Rxf8,Rf1,Rf4,Rxf4,exf4,Kf2,Be5,Bc1,g5,Kf3,h6,h4,gxh4,Bxf4,Bxf4,Kxf4,h3,Kg3,h2,Kxh2,Ke5,Kh3,Kxe4,Kh4,Kf4,a4,b6,a5', 'bxa5,c5,Ke5', 'https://lichess.org/training/VYNCX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vYNIL', 'Rapid', 'aladin_lt', 1652, 'Sergey-NAUMOV', 1699, 'e4,e5,d4,exd4,Bc4,Qf6,Nf3,Bc5,Bg5,Qg6,O-O,f6,Bh4,d6,Bg3,Nc6,Bd5,Ne5,c3,Nxf3+,Qxf3,Ne7,cxd4,Bxd4,Nc3,c6,Bb3,Bg4,Qd3,Bxc3,bxc3,O-O-O,Rab1,h5,Qe3,Kb8,Rfd1,Bxd1,Rxd1,Ka8,Bxd6,Qe8,Bc5,Rxd1+,Bxd1,b6,Bd6,Qd7,Qf4,Ng6,Qg3,Ne5,Be2,Qxd6,Qxg7,Rd8,h3,Qd2,Qxf6,Qd6,Qg5,Nd3,Bxh5,Rf8,Qd2,Rd8,Qg5,Nc5,e5,Qd5,c4,Qxc4,Qxd8+,Kb7,Qe7+,Ka6,Bf7,Qc1+,Kh2,Qf4+,Kg1,Ne4,Bc4+,b5,Qa3+,Kb6,Qe3+', 'Qxe3,fxe3,bxc4', 'https://lichess.org/training/vYNIL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vyoCY', 'Rapid', 'Json0-0', 1986, 'NicolaOrecchini', 1933, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e6,Nc3,Nc6,Be3,Nf6,Bb5,Bd7,O-O,a6,Be2,Be7,Nxc6,bxc6,f3,O-O,Qd2,d5,exd5,cxd5,Rad1,Qc7,Bf2,Rfb8,Bg3,Qb6+,Kh1,Rc8,Rb1,Bb4,a3,Bc5,Bd3,Be3,Qe2,Nh5,Bf2,d4,Ne4,Nf4,Qd1,f5,Ng3,Nxd3,cxd3,Rc7,Bxe3,dxe3,f4,Rac8,Re1,Rc2,Re2,Ba4,Qe1,Bb5,Rxe3,Qb7,Re2,Bxd3,Rxc2,Rxc2,Qxe6+,Kf8,Rg1,Rxb2', 'Qd6+,Kf7,Qxd3', 'https://lichess.org/training/vyoCY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VyoIX', 'Blitz', 'MALANDOG_HAMTIC', 2142, 'JongGuevarra', 2173, 'b3,g6,Bb2,Nf6,Nf3,Bg7,g3,O-O,Bg2,d6,O-O,e5,d3,c5,Nbd2,Nc6,c4,h6,Ne4,Be6,Nfd2,Qd7,Nxf6+,Bxf6,Ne4,Bg7,Qd2,f5,Nc3,f4,Nd5,Bh3,gxf4,Bxg2,Kxg2,exf4,Bxg7,Kxg7,f3,Qf5,Rae1,Rae8,e4,Qg5+,Kh1,Nd4,Rf2,Qh5,Nxf4,Qe5,Nxg6,Kxg6,Rg1+,Kh7,Rfg2,Rf7,Rg6,Qh5,f4,Nf3,Qe2,Rxf4,Rg7+,Kh8,Qb2,Nd4,Qg2,Rff8', 'Rh7+,Kxh7,Qg7#', 'https://lichess.org/training/VyoIX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYOJx', 'Blitz', 'sigurdismysecondname', 2341, 'fkh73', 2321, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,cxd4,cxd4,Bd7,O-O,Nge7,Nc3,Nxd4,Nxd4,Qxd4,Nb5,Qxe5,Qf3,Bxb5,Bxb5+,Nc6,Bf4,Qxb2,Rab1,Qxa2,Bxc6+,bxc6,Rb7,Bc5,Bd6,O-O-O,Rc7+,Kb8,Bg3,Bd6,Qxf7,Bxc7', 'Qxc7+,Ka8,Qxc6#', 'https://lichess.org/training/VYOJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYPZk', 'Classical', 'Sanjar312', 1656, 'Echecs1964', 1843, 'e4,e5,Bc4,Nf6,Qf3,Nc6,c3,Bc5,d3,d6,h3,Be6,Bxe6,fxe6,Bg5,O-O,Bxf6,Qxf6,Qxf6,Rxf6,f3,Raf8,b4,Bb6,a4,a5,b5,Ne7,Na3,d5,O-O-O,c5,bxc6,bxc6,Kc2,Bc5,Nb1,Rb8,Nd2,Ng6,g3,Rf7,h4,Rfb7,Rb1,Ba3,Nb3,Nf8,Nh3,h6,g4,Nd7,g5,c5,gxh6,c4,dxc4,dxc4,Nxa5', 'Rb2+,Rxb2,Rxb2+,Kd1,Rb1+,Ke2,Rxh1', 'https://lichess.org/training/VYPZk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vYreC', 'Blitz', 'VehbiMaxhuni1984', 1880, 'tohid_khodayari', 1862, 'Nc3,e6,e4,d5,exd5,exd5,d4,c6,Nf3,Be7,Bd3,h6,Be3,Nf6,Qd2,Ng4,Bf4,O-O,h3,Nf6,O-O-O,b5,Rde1,b4,Na4,Nbd7,Bxh6,Ne4,Rxe4,dxe4,Bxe4,gxh6,Qxh6,Nf6,Ng5,Re8,Kb1,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/vYreC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VyReo', 'Rapid', 'lubstur', 1700, 'Timtg27', 1745, 'd4,Nf6,c4,g6,e3,Bg7,Nf3,d6,Bd3,Bg4,O-O,O-O,Nc3,Nfd7,b3,e5,Be2,exd4,exd4,Bxf3,Bxf3,c6,Bb2,Qg5,d5,c5,Rb1,Ne5,Ne4,Qf5,Nxd6,Qf4,Nxb7,Nbd7,Nd6', 'Nxf3+,Qxf3,Qxd6,Bxg7,Kxg7', 'https://lichess.org/training/VyReo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYS77', 'Rapid', 'Riri2104', 1870, 'migz2209', 2058, 'd4,Nf6,Bf4,d5,h3,g6,e3,Bg7,Bd3,c5,c3,Nc6,Nf3,Qb6,Qb3,O-O,Nbd2,Bf5,Bxf5,gxf5,dxc5,Qxc5,Nd4,e5,Nxc6,exf4,Nd4,Ne4,Nxe4,dxe4,O-O-O,fxe3,fxe3,f4,exf4,Rfd8,Qb5', 'Bxd4,Qxc5,Bxc5', 'https://lichess.org/training/VYS77');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYsHK', 'Rapid', 'volleyavuz', 1706, 'ohhaigyz', 1658, 'e4,c5,g3,Nc6,Bg2,e5,Nh3,Be7,Nc3,Nf6,O-O,O-O,Nd5,Nxd5,exd5,Nd4,c3,Nf5,d3,d6,Qh5,Bf6,g4', 'g6,gxf5,gxh5', 'https://lichess.org/training/VYsHK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vYtjw', 'Rapid', 'Brunozaurus', 1744, 'rubkar', 1689, 'd4,d5,c4,c5,dxc5,d4,Nf3,Nc6,a3,e5,b4,a6,Nbd2,b5,cxb6,Qxb6,Nb3,Bxb4+,axb4,Qxb4+,Nbd2,Nf6,Qa4,Bd7,Qxb4,Nxb4,Nxe5,Nc2+,Kd1,Nxa1,Bb2,Ba4+,Kc1,Nb3+,Nxb3,Bxb3,Bxd4,Ne4,e3,O-O,Ng4,f5,f3,fxg4,fxe4,Rf2,Bd3,Ra2,Bb1,Rxg2,e5,a5,c5,a4', 'Be4,Rc2+,Bxc2', 'https://lichess.org/training/vYtjw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vYuO8', 'Rapid', 'Hovo666', 1629, 'Ufuk0206', 1651, 'e4,d6,d4,c6,d5,Nd7,dxc6,bxc6,Nf3,e5,Bc4,Be7,Qd2,Ngf6,Ng5,O-O,Qe3,h6,Bxf7+,Rxf7,Nxf7,Kxf7,Qg3,Ba6,f4,Qb6,fxe5,Nxe5,h4,Qb4+,Nc3,Nxe4,Qf4+,Kg8,Qxe4,Qb6,Be3', 'Qxb2,Rb1,Qxc3+', 'https://lichess.org/training/vYuO8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vyvCK', 'Rapid', 'BLACK_MOON', 1862, 'alxorazmiy1962', 1899, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,c5,Bb5+,Nc6,Nxc5,Bxc5,dxc5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/vyvCK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VyVDs', 'Bullet', 'RockStrongo', 1881, 'Baxter_jackson', 1789, 'e4,f5,exf5,Nf6,d4,d5,c4,Bxf5,Nc3,e6,cxd5,exd5,Nf3,Nc6,Bd3,Bg4,Be3,Be7,O-O,Qd7,h3,Bh5,Re1,O-O,Bb5,a6,Bxc6,bxc6,Ne5,Qd6,Qc2,Rab8,Bf4,Ne4,Nd3', 'Rxf4,Nxf4,Qxf4,Nxe4,dxe4', 'https://lichess.org/training/VyVDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vyvIG', 'Rapid', 'bkkuiper', 1625, 'OneLossADay', 1665, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,a6,Ba4,b5,Bb3,Bc5,Rxe4,d6,d4,Nxd4,Nxd4,Bxd4,Qxd4,Bb7,Re1,O-O,Qd3,Qf6,Be3,c5,c4,Bc6,Nd2,Rad8,Bc2,Qh4,Qf5,Bd7,Qg5,Qxg5,Bxg5,Rb8,cxb5,axb5,b3,f6,Bh4,g5,Bg3,Kg7,h4,h6,hxg5,hxg5,Be4,Rh8,Kf1,Rh1+,Ke2,Rxe1+,Rxe1,Ra8,Ra1,Rh8,f3,f5,Bc2,f4,Bf2,Rh2,Rg1,Kf6,Nf1,Rh8,a4,bxa4,bxa4,Ra8,Nd2,Bxa4,Ra1', 'Bb5+,Bd3,Bxd3+', 'https://lichess.org/training/vyvIG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VYVOH', 'Blitz', 'ScottPilgrim', 2070, 'Hudson13', 2116, 'd4,Nf6,Bf4,d5,e3,e6,Bd3,c5,c3,Nc6,Nd2,Bd6,Bxd6,Qxd6,f4,a6,Ngf3,b5,O-O,Bb7,Ne5,O-O,Rf3,Ne7,Rh3,g6,g4,Ne4,g5,Nf5,Bxe4,dxe4,Ng4,Kg7,Qf1,Rac8,Nb3,cxd4,Nxd4,Nxd4,Rxh7+,Kxh7', 'Qh3+,Kg7,Qh6+,Kg8,Nf6#', 'https://lichess.org/training/VYVOH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vyVtr', 'Classical', 'richardking-all', 1792, 'FS90', 1812, 'e4,d6,Nf3,Nf6,d3,g6,Nc3,Bg7,Be2,O-O,Rb1,c5,O-O,Nc6,a3,a6,Bg5,b5,Nd5,Nxd5,exd5,Ne5,c4,Bb7,Nxe5,Bxe5,Bf3,Qd7,Bh4,a5,Be2,b4,Bg3,Bd4,h3,Rae8,Bg4,f5,Bf3,e5,dxe6,Rxe6,Bxb7,Qxb7,Re1,Rfe8,Rxe6,Rxe6,a4,Qe7,Qc2,Re1+,Rxe1,Qxe1+,Kh2,Be5', 'f4,Qe3,fxe5', 'https://lichess.org/training/vyVtr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vyvxk', 'Blitz', 'chesss0011', 1799, 'seini', 1671, 'e4,c5,Bc4,e6,Nc3,d6,a3,a6,d3,b5,Ba2,Nc6,Nge2,Nf6,O-O,h6,Ng3,Be7,f4,O-O,f5,b4,axb4,Nxb4,Bb3,Bb7,fxe6,fxe6,Bxe6+,Kh8,Nf5,Bc8,Nxe7,Qxe7,Bb3,Bb7,Qe1,Qe5,Qh4,Nh7,Be3,Rf6,Rxf6,Nxf6,Rf1,Rf8,Bxh6,gxh6', 'Qxh6+,Nh7,Rxf8#', 'https://lichess.org/training/Vyvxk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VywfO', 'Blitz', 'hcx_winchester', 2006, 'EmalWah', 2005, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bc4,Bg4,O-O,Bxf3,Qxf3,O-O,Qg4,Qd7,Qxd7,Nxd7,Bd2,Nb6,Bb3,Rfe8,Rfe1,Nd7,Rxe8+,Rxe8,Re1,Rxe1+,Bxe1,b6,Kf1,Kf8,d5,cxd5,Bxd5,Ne5,Ke2,Ke7,Be4,g6,a4,a5,Bd2,f5,Bd5,f6,Be3,Bc5,Bxc5+,bxc5,Bg8,h6,f3,f4,b3,Kd6,Kd2,g5,Kc3,h5,Bh7,g4,fxg4,hxg4,Bf5,f3,gxf3,Nxf3,Bxg4,Nxh2,Be2,f5,Kc4,Kc6,Kd3,f4,Ke4,f3,Bb5+,Kd6,Ke3,Ke5,Kf2,Kf4,Bc6,Ng4+,Kg1,Ke3,c3,f2+,Kg2,Ke2,Bb5+,Ke1,b4,cxb4,cxb4,axb4,a5,Ne3+,Kf3,b3,a6,b2,a7,b1=Q,a8=Q,Qf5+,Kxe3,Qxb5', 'Qa1+,Qb1,Qxb1#', 'https://lichess.org/training/VywfO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vyy2l', 'Blitz', 'facultas', 1587, 'checkaboom', 1654, 'c4,e5,g3,Nf6,Nc3,c6,Bg2,d6,e3,Be6,b3,Nbd7,Nge2,Nc5,d4,exd4,exd4,Na6,d5,Bd7,dxc6,Bxc6,O-O,Bxg2,Kxg2,Be7,Bg5,Qc7,Bxf6,Bxf6,Rb1,O-O,Nd5,Qd8,Nxf6+,Qxf6,Nf4,Nc7,Re1,Rad8,Qc2,d5,cxd5,Nxd5,Nxd5,Rxd5,Qc7,Rd2,Qc5,Rxa2,Rbc1,a6', 'Qxf8+,Kxf8,Rc8+,Qd8,Rxd8#', 'https://lichess.org/training/Vyy2l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vYy3u', 'Rapid', 'boratustas', 1575, 'sin_rostro', 1549, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,e5,Ng4,d4,c5,Be3,cxd4,Bxd4,c5,Bb5+,Bd7,Bxd7+,Qxd7,Bc3', 'Qxd1+,Kxd1,Nxf2+,Ke2,Nxh1', 'https://lichess.org/training/vYy3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VyYgk', 'Rapid', 'vvm', 1666, 'mostafamwb', 1675, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bf4,g6,Rc1,d6,Bc4,Bg7,Nf3,Bg4,Qe2,Bxf3,Qxf3,e5,Bg3,Qf6,Qd3,Nge7,O-O,O-O,f4,exf4,Rxf4,Qd4+,Qxd4,Nxd4,Nd5,Nxd5,exd5,b5,Bd3,Be5,Rg4,Bxg3,Rxg3,a5,Rg4,Nf5,Bxf5,h5,Rg3,Kh7,Bd3,b4,Rc6,Rfd8,Rh3,Kg7,Kf2,a4,Kf3,b3,a3,Rac8,Ra6,Ra8,Bb5,Rxa6,Bxa6,Ra8,Bb7,Ra5,Ke4,Rc5,Rc3', 'Rxc3,bxc3,b2', 'https://lichess.org/training/VyYgk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VZ06K', 'Blitz', 'slimlewis', 1575, 'leoaway', 1595, 'f4,c5,Nf3,d6,e3,Nf6,Be2,Bg4,O-O,Nc6,b3,e6,Bb2,Be7,Ng5,Bxe2,Qxe2,O-O,Bxf6,Bxf6,Qh5,h6,Nc3,a6,Nge4,b5,Nxf6+,Qxf6,Ne4,Qe7,Rad1,d5,Nc3,b4,Na4,c4,f5,exf5,Qxf5,cxb3,Qxd5,bxc2,Rc1,Rac8,Rxc2,Ne5,Rxc8,Rxc8,Nb6,Rc2,d4,Ng6,Nd7,Qxe3+,Kh1,Qe2,Qxf7+,Kh7', 'Nf6+,Kh8,Qg8#', 'https://lichess.org/training/VZ06K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZ10B', 'Blitz', 'patroklos1048', 1944, 'RasinDetra', 1836, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Nbd7,Bd3,dxc4,Bxc4,b5,Bb3,Bb7,O-O,a6,Qe2,c5,Rd1,c4,Bc2,Be7,e4,O-O,e5,Nd5,Ne4,f5,exf6,N7xf6,Neg5,Bc8,Nxe6,Bxe6,Qxe6+,Kh8,Ng5,Qe8,Bxh7,Nxh7,Qxd5,Nxg5,Bxg5,Bxg5,Qxg5,Qe2,Rd2,Qe4,d5,Rf5,Qg3,Re8,Kf1,Rxd5,Rxd5', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/vZ10B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vz1C6', 'Rapid', 'Nalba92', 1843, 'Pipeloi', 1736, 'c4,e5,g3,c6,Bg2,d5,cxd5,cxd5,Nc3,e4,e3,Bb4,a3,Ba5,b4,Bc7,Bb2,Nf6,d3,Bf5,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,dxe4,Qxd8+,Bxd8,Bxg7,Rg8,Bd4,Nc6,Rd1,Rg5,f3,Bb6,fxe4,Rd8,Bxb6,Rxd1+,Kxd1,axb6,Nf3,Rg4,Kd2,f6,Kd3,Rg7,Kc4,Nb8,Kb5,Nd7,Rc1,Re7,Rc4,f5,Ng5', 'Re5+,Ka4,b5+,Kb3,bxc4+', 'https://lichess.org/training/Vz1C6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VZ1U6', 'Rapid', 'bakal3086', 1893, 'Gil22', 1864, 'e4,c5,d4,cxd4,Nf3,Nc6,Bc4,e6,c3,dxc3,Nxc3,d6,Bf4,a6,O-O,Be7,Bb3,Nf6,Qe2,O-O,Rfd1,Qc7,Be3,b5,Rac1,Qb7,Bc2,Na5,Qd3,h6,e5,dxe5,Nxe5,Nc4,Bxh6,Nxe5,Qg3,Ng6,Bxg6,gxh6', 'Be4+,Kh8,Bxb7', 'https://lichess.org/training/VZ1U6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZ2MH', 'Rapid', 'khaledbenaggoune', 1620, 'reactor', 1727, 'e4,c6,Nf3,d5,Nc3,Bg4,exd5,cxd5,h3,Bxf3,Qxf3,e6,Bb5+,Nd7,d4,a6,Bd3,Ngf6,Bf4,h6,O-O,b5,Rfe1,Be7,Rad1,Nb6,b3,Bd6,Bxd6,Qxd6,Ne2,Rc8,Ng3,O-O,Qe3,Nbd7,f4,Kh8,Nf1,Rc3,Nd2,Nh5,Nf3,Nxf4,Ne5,Nxd3,Rxd3,Rxc2,Qf4,Nxe5,Rxe5,Rxa2,Rg3,Qc7,Qg4,Rg8,Rh5,Kh7', 'Rxh6+,gxh6,Qxg8#', 'https://lichess.org/training/vZ2MH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vz4cs', 'Blitz', 'YCactus', 2003, 'asoundias98', 1910, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd2,d5,Bd3,dxc4,Bxc4,b6,Nf3,Bb7,O-O,Nbd7,Re1,Bxc3,Bxc3,Ne4,Bb4,Re8,Nd2,Ndf6,f3,Nd6,Bb3,Rc8,Rc1,a5,Bc3,Nb5,Ba4,Nxc3,Rxc3,c6,a3,b5,Bb3,a4,Ba2,Nd5,Rd3,c5,dxc5,Rxc5,Bxd5,Rxd5,Rxd5,Bxd5,e4,Bb7,Nb1,Qb6+,Kh1,b4,Qxa4,Bc6,Qxb4,Qxb4,axb4,Rb8,Rc1,Be8,Rc4,f6,Kg1,e5,Kf2,Bf7,Rc2,Kf8,Nc3,Rxb4,Ke3,Ke8,Rd2,Be6,g3,h5,f4,exf4+,gxf4,Ke7,h4,f5,exf5,Bf7,Ne4,Rb5,Ng5,Rxf5,Nxf7,Kxf7,Ke4,Rb5,Rf2,Kf6,Kd4,Rb4+,Kc3,Re4,b4,Ke6,b5,Kd6,Rb2,Rxf4,b6,Rf8,b7,Kc7,Kd4,Kb8,Ke5,Rf1,Rg2,Rh1,Rxg7,Rxh4,Kd5,Rh1,Rh7,Rb1,Kc6,h4', 'Rh8+,Ka7,Ra8#', 'https://lichess.org/training/Vz4cs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vz67p', 'Blitz', 'JuanBautistaOcaranza', 2071, 'khelaslou', 2074, 'd4,d6,f4,c5,e3,cxd4,exd4,g6,Nf3,Bg7,Bd3,Nf6,O-O,O-O,c3,Nc6,Qe2,e6,Nbd2,b6,Ne4,Bb7,Nxf6+,Bxf6,Ng5,Re8,Qg4,Bg7,Bd2,Bc8,Qf3,Bd7,Rae1,d5,Qg3,Ne7,Nf3,Nc6,Ne5,Rf8,Rf3,a6,Qg4,b5,b4,a5,Nxd7,Qxd7,Bxb5,axb4,cxb4,Rxa2,Rc1,Rxd2,Bxc6,Qa7,b5,Qxd4+,Kh1,Qb4,Rff1,Rd4,h4,e5,g3,exf4,Rxf4,Qd2,Rcf1,Rxf4,Qxf4,Qb2,Bxd5,Qxb5,Bxf7+,Kh8,Kh2,Be5,Qf3,Qd7,h5,g5,h6,Qe7,Qf5,g4,Qxg4,Rxf7', 'Qc8+,Qf8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/Vz67p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vz9fh', 'Rapid', 'Randeh', 2093, 'moblok', 2131, 'd4,Nf6,c4,e6,Nc3,c5,d5,exd5,cxd5,d6,e4,g6,f3,Bg7,Bg5,h6,Bh4,O-O,Nge2,b5,Bf2,b4,Nb1,Ba6,Ng3,Qa5,Nd2,Bxf1,Ngxf1,Nbd7,Ne3,Ne5,O-O,Qb5,Bg3,Nh5,Bxe5,Bxe5,Ndc4,Bd4,Kh1,Rae8,Nxd6,Qa6,Nxe8,Bxe3,Nc7,Qd6,Nb5,Qe5,Nxa7', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/vz9fh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vz9gZ', 'Blitz', 'pampainfierno', 1963, 'achiles36', 1988, 'e4,c5,Bc4,d6,f4,Nf6,d3,e6,Nf3,Be7,O-O,Nc6,Be3,Bd7,Nbd2,O-O,a3,Rc8,e5,dxe5,fxe5,Ne8,Qe1,Qc7,Qg3,g6,Bh6,Ng7,Ne4,Kh8,Nf6,Qd8,Qh4,Nf5', 'Bg7+,Kxg7,Qxh7#', 'https://lichess.org/training/Vz9gZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VZ9jk', 'Rapid', 'crocemaltese', 1672, 'MorphyAgain', 1929, 'e4,d5,e5,e6,d4,c5,c3,Qb6,Nf3,Nc6,Na3,cxd4,cxd4,Bxa3,bxa3,Nge7,Be3,Qa5+,Qd2,Qxa3,g4,O-O,h4,Qb4,h5,h6,g5,hxg5,Bxg5,Nf5,h6,Ncxd4,Nxd4,Qxd2+,Bxd2,Nxd4,hxg7,Kxg7,Rc1,Nf3+,Ke2,Nxd2,Kxd2,Bd7,Bd3,Rh8', 'Rcg1+,Kf8,Rxh8+', 'https://lichess.org/training/VZ9jk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZ9NX', 'Blitz', 'Iguchisan', 1688, 'Rezaghanei', 1673, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Bd3,e6,Be3,c5,d5,exd5,exd5,Ng4,Qd2,Nxe3,fxe3,Nd7,O-O-O,a6,Kb1,b5,h4,b4,Ne4,Ne5,Nxe5,Bxe5,h5,g5,Rdf1,h6,Qf2,f5,Ng3,Qf6,Kc1,f4,Ne4,Qg7,Qc2,Bf5,exf4,Bxf4+,Kb1,Bxe4,Bxe4,a5,Bg6,a4,Qe4,Rae8,Bxe8,a3,Rf2,axb2,Rhf1,Qc3,Qg6+,Kh8,Qxh6+,Kg8,Bg6', 'Qc1+,Rxc1,bxc1=Q#', 'https://lichess.org/training/vZ9NX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VzaDm', 'Rapid', 'niclang', 2176, 'Cancamuza', 2167, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Ne4,Qe2,d5,exd6,O-O,dxc7,Qd7,O-O,Re8,Qd3,Qxc7,cxd4,Nb4,Qb3,Bf8,a3,Nc6,Nc3,Na5,Qa4,Bd7,Bb5,Nxc3,bxc3,Bxb5,Qxb5,Qxc3', 'Bd2,Qc4,Qxa5', 'https://lichess.org/training/VzaDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vzB5W', 'Classical', 'MrPiresbh', 1646, 'scannow121', 1669, 'Nc3,c6,Nf3,d6,d4,Nd7,e4,Ngf6,Bd3,e5,dxe5,Nxe5,O-O,Bg4,Be2,Bxf3,gxf3,Be7,f4,Ng6,Qd4,O-O,Be3,c5,Qc4,Qd7,Qd3,Qh3,Bd2,Qh4,Qg3,Nh5', 'Qxh4,Bxh4,Bxh5', 'https://lichess.org/training/vzB5W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZCFv', 'Rapid', 'BlackConnections', 2122, 'JARANDujo', 2244, 'c4,c5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Nc7,Nf3,Nc6,O-O,e5,e3,Bg4,h3,Bh5,Qa4,f6,Qh4,Bg6,e4,Be7,Qg4,O-O,Nh4,Bf7,Nf5,Ne6', 'Nh6+,Kh8,Nxf7+,Rxf7,Qxe6', 'https://lichess.org/training/vZCFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vzCyg', 'Rapid', 'Shaipshala', 1939, 'mustafa14100', 1944, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,cxd4,cxd4,Bb4+,Nc3,Nge7,O-O,O-O,Be3,Qd8,a3,Ba5,b4,Bb6,Na4,Bc7,Nc5,f6,exf6,Rxf6,Bg5,Rf8,Rc1,a6,Bd3,Bd6,Qe2,Bxc5,bxc5,Qe8,Be3,Nf5,Ng5,h6,Nh3,Nxe3,fxe3,Rxf1+,Rxf1,e5,Qf2,Bxh3,gxh3,e4,Be2,Qg6+,Qg3,Qxg3+,hxg3,Rf8,Rxf8+,Kxf8,Bg4,Kf7,Kf2,Ne7,Ke2,g6,Kd2,h5,Bd7,Nf5,g4,hxg4,hxg4,Ne7,g5,Nc6,Kc3,Ke7,Bc8,Na5,Kb4,Nc4,Bxb7,a5+,Ka4,Nxe3,Kxa5', 'Nc4+,Kb4,e3,Bxd5,e2', 'https://lichess.org/training/vzCyg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vzddw', 'Blitz', 'alexey341', 1881, 'Magaga', 1936, 'e4,c5,Bc4,d6,d3,e6,Ne2,Nf6,Bg5,Be7,O-O,Bd7,Ng3,O-O,f4,a6,f5,b5,Bb3,Qc7,Bxf6,Bxf6,fxe6,fxe6,Rxf6,Rxf6,Nh5,Rg6,Qf3,c4,d4,cxb3,axb3,Qxc2,Nc3,Qxb2,Rf1,Nc6', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/Vzddw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vzfzo', 'Blitz', 'calaf81', 1713, 'murthyvr', 1698, 'd4,d5,Nf3,Bg4,e3,e6,Be2,Nf6,O-O,Nbd7,Nbd2,Bd6,c4,dxc4,Nxc4,Be7,Nce5,Nxe5,Nxe5,Bxe2,Qxe2,O-O,b3,c6,Bb2,Qc7,Rac1,Bd6,Nf3,Ne4,g3,f5,Nd2,Rf7,Nxe4,fxe4,Qc4,Qd7,d5,cxd5,Qd4,Raf8,Qxa7,Qb5,Qd4,e5,Qd2,Bb4,Qd1,Bd6,Rc2,Qd3,Rd2,Qa6,Rxd5,Be7,Bxe5,Qxa2,Rd4,Rxf2,Rxf2,Rxf2,Rd8+,Bf8,Qd5+,Rf7', 'Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/Vzfzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vzgjt', 'Rapid', 'Nadori2', 1915, 'bouboubou', 1819, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Bf5,a3,e6,Qb3,Qb6,Qxb6,axb6,Nb5,Na6,e3,Rc8,Bd2,Be7,Bc3,O-O,Ne5,Ne4,Be2,Nxc3,Nxc3,Nc7,Nd7,Rfd8,Nxb6,Rb8,O-O,Ne8,Rfc1,Rd6,Nba4,h6,Nb5,Rc6,h3,Nd6,Na7', 'Rxc1+,Rxc1,Ra8', 'https://lichess.org/training/vzgjt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VZkdJ', 'Rapid', 'hmooode0', 1947, 'Omar_Adel', 1923, 'd4,d5,Nf3,Nf6,e3,Nc6,c4,e6,Nc3,b6,cxd5,Nxd5,Nxd5,Qxd5,Bd2,Bb7,Rc1,Be7,Bc4,Qe4,Bb5,O-O,Bxc6,Bxc6,O-O,Bb7,Rxc7,Bd6,Rd7,Rad8,Rxd8,Rxd8,Qe2,Qg6,Bc3,f6,Re1,e5,dxe5,Bxe5,Bxe5,fxe5,e4,Rf8,Nxe5,Qe6,Nf3,Qxa2,Ng5,Qa5,Qc4+,Kh8,Qc1,Rc8,Qe3,Qa2,Qh3,h6,Nf7+,Kg8,Nd6,Rc7,Nxb7,Qxb2,Qe6+,Kh8,h3,Rxb7', 'Qc8+,Kh7,Qxb7', 'https://lichess.org/training/VZkdJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VzMEA', 'Blitz', 'sk1114792', 1603, 'Ggmaria', 1733, 'd4,Nf6,c4,b6,Nc3,Bb7,Nf3,d6,e3,e6,g3,Be7,Bg2,Nbd7,Rg1,Ne4,Nd2,Nxc3,bxc3,Bxg2,Rxg2,Qc8,Ne4,Qb7,Qf3,f5,Nf6+,Nxf6,Qxb7,O-O,Qxc7,Rfe8,Qc6,Rac8,Qf3,Rxc4,Bb2,Ne4,O-O-O,Nxc3,Bxc3,Rxc3+,Kb2,Rec8,Rd2,d5,Qd1', 'Ba3+,Ka1,Rc1+,Qxc1,Rxc1#', 'https://lichess.org/training/VzMEA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZMiN', 'Rapid', 'amadiskurwiel', 1667, 'Claudiu1669', 1680, 'd4,Nf6,c4,e6,e3,d5,Nc3,c5,Nf3,Nc6,Be2,cxd4,exd4,dxc4,Bxc4,Bb4,Bd2,Nxd4,Nxd4,Qxd4,Qa4+,Bd7,Qxb4,a5,Qxb7,O-O,Be2,Rfb8,Qf3,e5,Be3,Qb4,Rb1,e4,Qg3,Nd5,O-O,Nxc3,Rbe1,Nxe2+,Rxe2,Bb5,Bh6,g6', 'Qe5,Qf8,Bxf8', 'https://lichess.org/training/vZMiN');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 36;
-    }
-
-}
\ No newline at end of file
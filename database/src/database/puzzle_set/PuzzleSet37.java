@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet37 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZmtN', 'Classical', 'RolfiMontenegro', 2194, 'chessbroad', 2222, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,Nf6,f3,O-O,Nc3,Qb6,Na4,Qa5+,Bd2,Qe5,Nxc6,bxc6,Bc3,Qc7,c5,Nh5,Bc4,Bxc3+,Nxc3,Nf4,O-O,Rb8,Rf2,Qe5,Na4,Ne6,Rc1,Rb4,a3,Rb8,b4,Rd8,Rd2,Nf4,Qb3,Qg5,Bxf7+,Kg7,Bc4', 'Nh3+,Kh1,Qxd2', 'https://lichess.org/training/vZmtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZnpr', 'Rapid', 'losnombressisirven', 1911, 'trinitomm', 1915, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,Nc6,d5,Ne5,f4,Ng6,Nf3,e5,f5,Ne7,Bg5,h6,Bxf6,gxf6,Be2,a6,O-O,Qb6+,Kh1,Bd7,Rb1,Rc8,Qe1,Rg8,Qh4,Bg7,h3,Qe3,Rfe1,Qc5,Nh2,b5,Ng4,a5,Nxf6+,Bxf6,Qxf6,b4,Nb5,Bxb5,Bxb5+,Qxb5,Qxd6,Rc2,f6,Ng6,Rbc1,b3,axb3,Qxb3,Ra1,Qb4', 'Qxb4,axb4,Ra8+,Kd7,Rxg8', 'https://lichess.org/training/vZnpr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VzOFs', 'Classical', 'xabito15', 1758, 'Paky', 1723, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,h3,Nxe4,d3,Nf6,Ng5,O-O,Nc3,b6,Qf3,c6,Qg3,d5,Bb3,Nbd7,Nf3,Re8,Nxe5,Nxe5,Qxe5,Bd6,Qg5,h6,Qh4,Bf5,Bf4,Bg6,Ba4,b5,Bb3,a5,a4,b4,Nd1,Bxf4,Qxf4,Qb6,Ne3,Qd8,Rfe1,Qd7,Re2,d4,Ng4,Rxe2,Nxf6+,gxf6,Qxf6,Rae8,Qxg6+,Kf8,Qxh6+,Ke7,Qg5+,Kd6,Qf4+,R2e5,Re1,Qe7,Rxe5,Qxe5,Qxe5+,Rxe5,Kf1,f6,f3,Rg5,Kf2,Ke5,g3,Kf5,h4,Rg7,Bc4,Re7,Bg8,c5,b3,Re3,Bh7+,Ke5,f4+,Ke6,g4,Rh3,h5,Rh2+,Kg3,Rxc2,Bf5+,Kf7,h6,Kg8,h7+,Kh8,g5,fxg5,fxg5,Rc3,Kh4,Rxb3,Kh5,Rb1,g6,Rh1+,Kg5,Kg7,Be6,Rb1,h8=Q+,Kxh8,Kf6,Rf1+,Ke7,Kg7,Bf7,Rf3,Bc4,Kxg6,Kd6,Rf5,Kc6,Rf3,Kxc5,b3,Bxb3,Rxd3', 'Bc2,Kf6,Bxd3', 'https://lichess.org/training/VzOFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VZohn', 'Classical', 'Rezqy_46', 1680, 'pj34nbm37', 1802, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Bc4,e6,Nf3,Nd7,O-O,Ngf6,Bg5,Be7,Re1,O-O,a3,Qb6,Rb1,Rad8,b4,Qc7,Rc1,a5,c3,Nb6,Ba2,Nbd7,h4,h6,Be3,Bd6,Nf1,e5,dxe5,Nxe5,Nxe5,Bxe5,Qe2,Rd3,Bb1,Rxc3,Rxc3,Bxc3,Rc1,axb4,axb4,Bxb4', 'Bxg6,fxg6,Qc4+,Rf7,Qxb4', 'https://lichess.org/training/VZohn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZOic', 'Rapid', 'nevind7', 2083, 'dubbeldutch', 1996, 'c4,e5,g3,d6,Bg2,Nc6,Nc3,f5,e3,Nf6,Nge2,Be7,O-O,O-O,d4,e4,a3,Qe8,Nb5,Bd8,b4,g5,Qc2,Qh5,c5,d5,Nbc3,Ne7,b5,c6,a4,Ng6,Qa2,Kg7,a5,f4,exf4,gxf4,Nxf4,Nxf4,Bxf4,Ng4,h3,Nf6,Be5,Bxh3,Bxh3,Qxh3,Qd2,Kg6,Ne2', 'Ng4,Nf4+,Rxf4', 'https://lichess.org/training/vZOic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZOoE', 'Blitz', 'FM Palachev_Petr', 2576, 'GM GrigorGrigorov', 2746, 'd4,Nf6,Nf3,e6,Bf4,c5,e3,cxd4,exd4,b6,Nbd2,Be7,h3,O-O,c3,d6,Bd3,Ba6,Bxa6,Nxa6,Qe2,Nc7,O-O,Qd7,a4,a6,Ne4,Nxe4,Qxe4,Nd5,Bd2,b5,axb5,axb5,Qd3,Qc6,b3,Rfc8,Rxa8,Rxa8,c4,bxc4,bxc4,Nb6,Rc1,h6,Be3,Rc8,c5,dxc5,dxc5,Nd5,Ne5,Qc7,Bd4,Bf6,Qg3,Bg5,Rc4', 'Bf4,Qd3,Bxe5,Bxe5,Qxe5', 'https://lichess.org/training/vZOoE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZpHU', 'Blitz', 'tralhawaee78', 2131, 'Invincible007', 1872, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,e6,c4,d5,d3,h6,Nc3,g6,Qa4,Bd7,Bf4,Bg7,Rad1,Ne7,Rfe1,O-O,Qc2,f6,Bd6,d4,Ne2,e5,Bxc5,Re8,Ba3,f5,Ng3,f4,Nf1,g5,N3d2,Ng6,f3,g4,b4,h5,c5,h4,Nc4,Bf8,Bb2,g3,h3,Be6,a4,Rb8,Ba3,Qd7,Rb1,Bxh3,gxh3,Qxh3,Qg2,Qe6,Nh2,h3,Qd2,Nh4,Rf1,gxh2+,Kxh2,Qg6,Rg1,Nxf3+,Kh1,Qxg1+,Rxg1+,Kh7,Qe2,Nxg1,Kxg1,Bh6,Qh5,Rg8+,Kh2,Rg2+,Kxh3,Rbg8,Nxe5', 'R8g3+,Kh4,Rh2#', 'https://lichess.org/training/vZpHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vzqvk', 'Classical', 'sw0o0sh', 1961, 'Amiralinematolahi', 1692, 'e4,e6,d4,d5,Nd2,c5,Ngf3,Qb6,c3,Nc6,Qb3,Nf6,e5,Nd7,Be2,cxd4,Qxb6,axb6,cxd4,Nb4,O-O,Nc2,Rb1,Rxa2,Bd1,Nb4,Nb3,Be7,Bd2,Nd3,Bc3,O-O,Be2,Nf4,Bb5,Ra8,Ra1,Rb8,Nc1,f6,Nd3,Ne2+,Kh1,Nxc3,bxc3,fxe5,Ndxe5,Nxe5,Nxe5,Bd6,f4,Rd8,Rab1,Bxe5,fxe5,Bd7,Bd3,Rdc8,Rf3,Ra8,h3,g6,Rxb6,Ra7,Rd6,Rc7,Bf1,Ra8,Rf2,Rf8,Kg1,Rxf2,Kxf2,Bc8,Rd8+,Kg7,Ke3,Rxc3+,Kd2,Rc7,Be2,b6,Rd6,Kf7,Rxb6,Ra7,Rc6,Bd7,Rc5,Ra2+,Ke3,Ra3+,Kf2,Ke7,h4,Ra4,Ke3,Ra3+,Bd3,Ra2,Rc2,Ra5,h5,gxh5,Bxh7,Ra8,Rf2,Rf8,Rxf8,Kxf8,Bg6,Be8', 'Bxe8,Kxe8,Kf4', 'https://lichess.org/training/Vzqvk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Vzred', 'Classical', 'CroosTheHorse', 1803, 'ORIONfull', 1784, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bc5,Bxc6,dxc6,Nxe5,Qd4,Nd3,Bg4,f3,Bh5,Nxc5,Qxc5,d4,Qc4,e5,Nd5,Ne4,O-O-O,b3,Qa6,c4,Ne7,g4,Bg6,Bg5,Rd7,Nc5,Qa5+,Bd2,Qb6,Nxd7,Kxd7,Be3,Rd8,O-O,Ke8,h4,h6,h5,Bh7,f4,Qb4,a3,Qc3,Rf3,Be4,Rg3,Kf8,b4,Qxc4,Rc1,Qa2,Ra1,Qb2,Qc1,Qe2,Qd2,Qa6,g5,hxg5,fxg5,Nf5,Rh3,Kg8,h6,g6,h7+,Kh8,e6,fxe6,d5,Qd3,Bd4+', 'Qxd4+,Qxd4+,Nxd4', 'https://lichess.org/training/Vzred');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZS80', 'Rapid', 'IvanG2020', 1748, 'Ginka1', 1776, 'Nf3,c5,c4,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,Nc3,Nf6,Nxc6,bxc6,Bd4,Ba6,e3,O-O,Bd3,Rb8,b3,Bb7,O-O,Qc7,Rc1,c5,Bxf6,Bxf6,e4,Qa5,Na4,Qc7,Qe2,Qc6,Rfd1,Bg5,Rb1,f5,f3,Qf6,Nxc5,Qb6,b4,d6,Kf1,dxc5,b5,fxe4,Bxe4,Bxe4,Qxe4,Qa5', 'Qd5+,Rf7,Qxg5', 'https://lichess.org/training/vZS80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VzsG4', 'Rapid', 'ukitop', 1777, 'petarbd', 1661, 'e4,e5,Bc4,Nf6,d4,exd4,Qxd4,Nc6,Qe3,b6,c3,Bc5,Qf3,Ne5,Qe2,Nxc4,Qxc4,Bb7,Nd2,d5,exd5,Bxd5,Qe2+,Be7,Ngf3,O-O,O-O,Re8,Qb5,a6,Qd3,Bxf3,Qxf3,b5,Rd1,Qc8,Ne4,Nxe4,Qxe4,Bc5,Qd5,Bb6,Bf4,c6,Qf3,h6,Rd3,c5,b3,c4,bxc4,Qxc4,Rad1,Qxa2,Be3,Bxe3,Rxe3,Rxe3', 'Qxa8+,Kh7,fxe3', 'https://lichess.org/training/VzsG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VzSJi', 'Rapid', 'Tanjerry', 1986, 'checkomatto', 2190, 'c4,g6,g3,Nf6,Bg2,Bg7,Nc3,O-O,d3,d6,e4,e5,Nge2,c6,O-O,a6,a4,a5,f4,Na6,h3,Nd7,f5,Ndc5,Be3,Nb4,Nc1,Re8,g4,Bf6,Qd2,gxf5,gxf5,Kh8,Kh1,Rg8,Bf3,Bg5,Bxg5,Rxg5,Bg4,Qf6,Qe2,Bd7,Ra3,Rag8,Nd1,h5,Bxh5,Qh6,Bg4,Rxg4,Kh2,Rg3,Nf2,Rg2+,Kh1,Qf4,Qh5+,Kg7,Kxg2,Kf8+,Ng4,Qd2+,Kg1,Nc2,Rc3,Nd4,Kh1,Ke7,Qh4+,Rg5,Rf2,Qe1+,Kh2', 'Nf3+,Rxf3,Qxh4', 'https://lichess.org/training/VzSJi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vzSTd', 'Rapid', 'olivariusolivarius', 1746, 'Patientideas', 1730, 'd4,d5,Nf3,Nf6,Bg5,h6,Bxf6,exf6,Nc3,Be6,e3,Bd6,Nb5,Bb4+,c3,Ba5,b4,Bb6,a4,c6,a5,Bc7,Nxc7+,Qxc7,Bd3,Nd7,O-O,O-O-O,Qb3,Kb8,Rfb1,g5,b5,cxb5,Qxb5,g4,Nh4,Nf8,g3,Bc8,a6,b6,Qb3,Ne6,c4,dxc4,Bxc4,Ng5,Rc1,Qe7,Ra5,Qe4,Bd3', 'Nh3+,Kf1,Qh1+,Ke2,Qxc1', 'https://lichess.org/training/vzSTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VZV0t', 'Blitz', 'Jarabacoa-VSANCHEZ', 1662, 'INTER1216', 1730, 'e4,c5,Nf3,Nc6,Bc4,e5,O-O,h6,d4,cxd4,c3,Nf6,cxd4,Nxd4,Nxd4,exd4,Qxd4,d6,Re1,Be7,e5,dxe5,Qxe5,Be6,Bxe6,fxe6,Qxe6,Nd5,Qg6+,Kf8,Nc3,Bf6,Nxd5,Qxd5,Be3,Qf7,Bc5+,Kg8,Qe4,g6,Rad1,Kg7,Bd4,Rhe8,Bxf6+,Qxf6,Qxb7+,Kg8,Rxe8+,Rxe8,h3,a6,Qd5+,Kh7,Qd7+,Re7,Qd8,Re1+,Kh2', 'Qf4+,g3,Qxf2#', 'https://lichess.org/training/VZV0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vzVFD', 'Blitz', 'Ushy23', 2427, 'NM FasterPhanter', 2409, 'e4,e5,Nc3,Nf6,Bc4,Bb4,Nd5,Nxd5,exd5,O-O,Ne2,Be7,O-O,d6,d4,Nd7,c3,f5,dxe5,Nxe5,Bb3,Kh8,f4,Ng4,Nd4,Bf6,h3,Bxd4+,Qxd4,Nf6,c4,Ne4,Bc2,Re8,b3,Qe7,Bb2,Qf7,Rae1,Bd7,Bxe4,Rxe4,Rxe4,fxe4,Qxe4,Re8,Qd4,b6,Kf2,c5,dxc6,Bxc6,g4,Re4,Qxd6', 'Rxf4+,Qxf4,Qxf4+', 'https://lichess.org/training/vzVFD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VZvH2', 'Blitz', 'Patzerking2', 1653, 'FM renanreis', 2361, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,a3,Bxc3+,Qxc3,b6,Nf3,Bb7,Bg5,d5,cxd5,Nxd5,Bxd8,Nxc3,bxc3,Rxd8,Ne5,c5,Rd1,Nc6,Nxc6,Bxc6,e3,Kf8,Bd3,Bxg2,Rg1,Bf3,Rc1,h6,Rg3,Bb7,Kd2,Rac8,Rcg1,g6,h4,h5,Bxg6,fxg6,Rxg6,Be4,Rxe6,Re8,Rh6,cxd4,exd4,Bf3', 'Rf6+,Ke7,Rxf3', 'https://lichess.org/training/VZvH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZW0e', 'Rapid', 'ezz3000', 1941, 'Ocelot44', 1943, 'e4,e5,Bc4,Bc5,Nf3,d6,h3,Nf6,d3,h6,Nc3,c6,Bb3,O-O,O-O,a5,Nh2,b5,a3,a4,Ba2,Be6,Kh1,Bxa2,Nxa2,Na6,Nc3,Nc7,f4,Bd4,fxe5,Bxe5,Ng4,Nxg4,Qxg4,Kh7,Ne2,Qc8,Qxc8,Raxc8,c3,f5,d4,fxe4,Rxf8,Rxf8,dxe5,Rf1+,Kh2,dxe5,Kg3,Nd5,b4,axb3,Rb1,Re1,Kf2', 'Rxe2+,Kxe2,Nxc3+,Ke3,Nxb1', 'https://lichess.org/training/vZW0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vzw3i', 'Blitz', 'Professor_Woland', 2462, 'NM McManow', 2554, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nb6,Nc3,e5,d5,Bc5,Nf3,O-O,Be2,f5,Nxe5,Re8,Nd3,Bd4,O-O,Nxc4,Nf4,Bxc3,bxc3,Nd6,c4,b6,Bb2,Qg5,g3,Na6,h4,Qh6,a4,Nc5,a5,Bd7,axb6,axb6,Qc2,Ba4,Qc3,Nde4,Qb4,Qd6,Bf3,Bd7,Rxa8,Rxa8,Ra1,Re8,Nh5,g6,Nf4,h6,Bd4,g5,hxg5,hxg5,Nh5,Kf7,Re1,g4,Bg2,Nd3,Qxd6,Nxd6,Rxe8,Bxe8,c5,bxc5,Bc3,c4,Bf1,Nb5,Bd2,Ke7,Bxd3,cxd3,Nf4,Kd6,Bb4+,Ke5,Nxd3+,Kxd5,Nf4+,Kc4,Be7,c5,Kf1,Nd4,Ke1,Kb3,Kd2,c4,Bf6,c3+,Kc1,Nf3,Ne2,Kc4,Bxc3', 'Kd3,Nf4+,Kxc3', 'https://lichess.org/training/vzw3i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VzWoB', 'Blitz', 'ZXSpectrum48k', 1575, 'Syezzadude', 1565, 'd4,e6,c4,d5,cxd5,exd5,Nc3,Nf6,f3,Bb4,Bg5,h6,Bh4,Nc6,e3,Be6,Bb5,Bd7,Ne2,g5,Bf2,Qe7,O-O,O-O-O,a3,Bd6,b4,h5,Qb3,g4,f4,h4,g3,hxg3,hxg3,Rh3,Kg2,Rdh8,Rg1,Rh2+,Kf1,Ne4,Nxe4,Qxe4,Nc3,Qf3,Ra2,Rh1,Be2', 'Rxg1+,Kxg1,Rh1#', 'https://lichess.org/training/VzWoB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZWYn', 'Rapid', 'Victory_HM', 1656, 'bbBlack', 1653, 'e4,c5,e5,Nc6,f4,d6,exd6,exd6,Bc4,Be6,Qe2,Be7,Bb5,a6,Bxc6+,bxc6,d3,Nf6,Qf3,Bd5,Qg3,O-O,Nc3,Be6,Nf3,Bg4,h3,Bxf3,Qxf3,d5,Bd2,Re8,O-O-O,Rb8,g4,Qb6,Na4,Qb5,b3,c4,dxc4,dxc4,g5,cxb3,axb3,Ba3+,Kb1,Qxa4,gxf6,Qd4,Bc3,Qc5,fxg7', 'Re3,Qxe3,Qxe3', 'https://lichess.org/training/vZWYn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZxA4', 'Rapid', 'Thomas_Watson', 1627, 'chingori', 1620, 'd4,d5,c4,c5,e3,cxd4,exd4,Nc6,Nf3,Bg4,cxd5,Qxd5,Nc3,Qh5,Be2,e6,h3,Nf6,O-O,Bxh3,Ng5,Bg4,Bxg4,Nxg4,Nf3,Bd6,g3,O-O,Nb5,Be7,Re1,a6,Nc3,Rad8,Be3,f5,Qe2,Bd6,Rad1,f4,Bxf4,Bxf4,gxf4,Rf6,d5,Nd4,Rxd4,e5,Rdd1,Rxf4,Rd3,Rxf3,Qxf3,Qh2+,Kf1,Rf8,Qg2', 'Rxf2+,Qxf2,Qxf2#', 'https://lichess.org/training/vZxA4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VZxgo', 'Blitz', 'IM dozer01', 2668, 'TolgaAkin', 2351, 'e4,c5,Nc3,Nc6,Nf3,g6,Bb5,Bg7,O-O,e6,Bxc6,dxc6,d3,Ne7,Be3,b6,Qd2,h6,h3,e5,Nh2,Be6,f4,exf4,Bxf4,Qd7,Nf3,g5,Be5', 'Bxe5,Nxe5,Qd4+,Qf2,Qxe5', 'https://lichess.org/training/VZxgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vzXo6', 'Blitz', 'VictoryMMI', 1965, 'LiamMurphy', 1972, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,Qc7,Bb3,e6,f3,Bd7,Be3,Be7,Qd2,O-O,g4,b5,O-O-O,b4,Nce2,d5,g5,Ne8,exd5,e5,h4,exd4,Bxd4,Nd6,h5,Nf5,g6,Nxd4,Nxd4,a5,gxf7+,Kh8,Ne6,Bxe6,dxe6,a4,h6,Bf6,hxg7+,Bxg7,Qd3,h6,Qg6,Qf4+,Kb1,axb3,axb3,Nc6,Rdg1,Rg8,fxg8=Q+,Rxg8,Rg4,Qe3,Rgh4,Ne7,Rxh6+,Bxh6', 'Rxh6+,Qxh6,Qxh6#', 'https://lichess.org/training/vzXo6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vZXQ2', 'Rapid', 'SmilingMan', 1706, 'Crazyfoot', 1666, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,Be2,Ne7,h3,Bxf3,Bxf3,Nf5,O-O,Na6,a3,Qc7,Bg4,g6,Bxf5,gxf5,Qh5,O-O-O,Bg5,Be7,Bh6,Nb8,Qxf7,Rde8,Qxe6+,Nd7,Qxf5,Qb6,c3,Qxb2,Bg7,Rhg8,Qxh7,Qxa1,f4,Qb2,f5,Qe2,f6,Bxf6,exf6,Qe3+,Kh1,Qe2,Rf3,Qe1+,Kh2,Nxf6,Bxf6,Rgf8,Qh5,Qxb1,Be5,Rg8,Qf5+,Qxf5,Rxf5,Ref8,Rh5,Rf7,a4,Kd7,a5,a6,Rh6,Rf2,Bg3,Rc2,Rh7+,Kc8,Rc7+,Kd8,Rxb7,Rxc3', 'Rb8+,Ke7,Rxg8', 'https://lichess.org/training/vZXQ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('VzXtP', 'Classical', 'Schogi77', 1738, 'Dmitry4562', 1695, 'd4,Nf6,Nf3,e6,c4,c5,Nc3,cxd4,Qxd4,Nc6,Qd1,Bb4,Bg5,h6,Bxf6,Qxf6,Qc2,e5,e3,e4,Nd2,Bxc3,bxc3,Qg6,Nxe4,d6,g3,Ne5,Bg2,Nxc4', 'Qa4+,Bd7,Qxc4', 'https://lichess.org/training/VzXtP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('vzYsU', 'Rapid', 'BlackIce04', 1953, 'Captain_Impossible', 1950, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,e6,d3,Be7,Be3,O-O,Nge2,a6,O-O,Qc7,d4,cxd4,Nxd4,Nc6,f4,e5,Nf5,Bxf5,exf5,Rac8,Rc1,b5,Nd5,Nxd5,Bxd5,a5,g4,a4,g5,Kh8,Kh1,Nb4,fxe5,dxe5,c4,Nxa2,Ra1,Nb4,cxb5,Rcd8,b6,Qb8,Qh5,Nxd5,Rf3,g6,Qh6,Rg8,f6,Nxf6,gxf6,Bf8', 'Qxh7+,Kxh7,Rh3+,Bh6,Rxh6#', 'https://lichess.org/training/vzYsU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0273', 'Rapid', 'Zodtg', 2300, 'f105', 1795, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,Bd7,O-O-O,Rc8,Bb3,Ne5,Kb1,Nc4,Bxc4,Rxc4,g4,Qa5,Nb3,Qc7,h4,h5,gxh5,Nxh5,Nd5,Qd8,Rdg1,Kh7,Nf4,Nxf4,Bxf4,e5,Bg5,f6,h5,fxg5,Rxg5,Bh6', 'hxg6+,Kg7,Rxh6', 'https://lichess.org/training/W0273');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w07gd', 'Rapid', 'kevban', 2013, 'fastforward', 1875, 'd4,f5,c4,Nf6,Nc3,e6,e3,c6,Nh3,Be7,Nf4,O-O,Bd3,d5,cxd5,cxd5,O-O,Qe8,Qb3,Qc6,Bb5,Qd6,g3,a6,Bd3,Ne4,Na4,b5,Bxe4,fxe4,Nc5,Qc6,Bd2,a5,Rac1,Qb6,Qd1,e5,Nxd5,Qd8,Nxe7+,Qxe7,Qb3+,Kh8,Qxb5,Bh3,Rfe1,exd4,exd4,Qf6,Nxe4', 'Qf3,Qf1,Bxf1', 'https://lichess.org/training/w07gd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W07PH', 'Blitz', 'Tristanoffff', 2390, 'DanOF', 2451, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Qg4,O-O,Nf3,f5,exf6,Rxf6,Ne5,Nbc6,Bg5,Rf8,Bd3,Qa5,O-O,Nxe5,Bxh7+,Kxh7,Qh5+,Kg8,Bxe7,Rf7,Bxc5,Qxc3,Qxe5,Bd7,Rab1,b6,Rb3,Qxc2,Rh3,bxc5', 'Qh5,Kf8,Qh8+,Ke7,Qxa8', 'https://lichess.org/training/W07PH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w07w5', 'Rapid', 'Gralex80', 1632, 'BladeRune', 1631, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,d4,Bf5,Nc3,Nb4,Nf3,e6,a3,Nc6,O-O,Bd6,Nb5,a6,Nxd6+,Qxd6,c3,Nf6,Bg5,Ng4,h3,Nf6,Ba4,b5,Bc2,Bxc2,Qxc2,h6,Bxf6,gxf6,Nh2,Rg8,Ng4,Qf4,Qh7,O-O-O,Qxh6', 'Rxg4,Qxf4,Rxf4', 'https://lichess.org/training/w07w5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w08p2', 'Blitz', 'acham', 1782, 'chess7312', 1857, 'g3,d5,Bg2,e5,d3,Nf6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Bg5,c5,Rb1,h6,Bxf6,Qxf6,f3,Be6,Rxb7,Nc6,e4,Rad8,Ne2,dxe4,fxe4,Bg4,Rf1,Qg5,Qd2,Qh5,Rc7,Rd6,Qe3,Qxh2,Rf2,Rb8,Qxc5,Rb1+,Kd2,Rg6,Rfxf7,Qxg2', 'Qf8+,Kh7,Rxg7+,Rxg7,Rxg7#', 'https://lichess.org/training/w08p2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0AEm', 'Rapid', 'KANISHQchess', 1714, 'Rajdippal786', 1679, 'c4,c5,Nc3,Nf6,g3,d6,Bg2,g6,Nf3,Bg7,O-O,O-O,d3,Bg4,e4,Nbd7,h3,Bxf3,Bxf3,Rb8,Be3,e5,Qd2,b6,Bh6,a6,Bxg7,Kxg7,Kg2,b5,cxb5,axb5,a3,Nb6,h4,c4,Rh1,h5,Qg5,Na4,Nxa4,bxa4,dxc4,Rxb2,Rad1,Rc2,Rc1,Rxc1,Rxc1,Re8,c5,dxc5,Rxc5,Qb6,Rxe5,Rxe5,Qxe5,Kh6,g4,hxg4,Qg5+,Kg7,Bxg4,Nxe4,Qe5+,Nf6,Bd1,Qc6+,Bf3,Qc1,Qe7,Qf4,Qb4', 'Qxb4,axb4,a3', 'https://lichess.org/training/W0AEm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0d1d', 'Rapid', 'janganbermain', 2161, 'ShrippyDiggers', 2046, 'd4,Nf6,Nf3,c5,c3,Qb6,Qb3,g6,Bg5,Bg7,Bxf6,Bxf6,e3,O-O,Nbd2,d6,Ne4,Qxb3,Nxf6+,exf6,axb3,b6,Be2,Be6,Bc4,Bxc4,bxc4,Nc6,dxc5,dxc5,O-O,Kg7,Rfd1,Rfd8,Kf1,Rxd1+,Rxd1,Rd8,Rxd8,Nxd8,b4,a5,Nd2,f5,e4,Kf6,exf5,Kxf5,bxc5,bxc5,f3,Ke5,g3,f5,Ke2,g5,Kd3,h5,f4+,gxf4,Nf3+,Kf6,gxf4,Ne6,Ke3,Ke7,Ne5,a4,Nd3,Kd6,Kd2,Kc6,Kc2,Kb6,Kb2,Ka6,Ka3,Ka5,h4,Nf8,Nxc5,Ng6,Nxa4,Nxh4,Nc5,Ng2,Nb3+,Kb6,c5+,Kc6,Kb4,h4,Nd4+,Kc7,Nxf5,h3,Ng3,Nxf4,Kc4,h2,Kd4', 'Ne2+,Nxe2,h1=Q', 'https://lichess.org/training/W0d1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0dZT', 'Rapid', 'Zakster123', 1693, 'zhezlo111', 1704, 'd4,e6,e4,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,g6,Nf3,Bg7,c3,O-O,Bd3,b6,Bg5,Bb7,O-O,Nbd7,Re1,Qe8,Qc2,Nd5,Be4,f6,Bd2,Rb8,Qa4,a5,c4,Ne7,Bxb7,Rxb7,Rxe6,Qd8,Rae1,Re8,Qb3,c5,Bxa5,cxd4,Nxd4,Nc5,Nc6,Nxc6,Rxe8+,Qxe8,Rxe8+,Kf7,Qe3,Nxa5,b3,Nc6,Rc8,Ne5,Ne4,Rd7,h3,Rd3,Qe2,Ne6,Rb8,f5,Rb7+,Kf8,Ng3,Nf4,Qc2,Bf6,Rxb6,Bh4,Ne2,Nh5,f4,Nxf4,Nxf4,Re3,Ne6+,Kf7,Qb2,Re1+,Kh2,Re3,Qa3', 'Bg3+,Kg1,Re1#', 'https://lichess.org/training/W0dZT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0FtJ', 'Blitz', 'abri2016', 2066, 'Schrulli', 2084, 'e4,Nf6,Nc3,d5,e5,d4,exf6,dxc3,fxg7,cxd2+,Bxd2,Bxg7,c3,Bf5,Bc4,c6,Qb3,O-O,Ne2,b5,Bxf7+,Rxf7,Ng3,Qd3,Rd1,e6,Nxf5,exf5,Qe6,Qe4+,Qxe4,fxe4,O-O,Nd7,Be3,Ne5,Rd4,Nc4,Rxe4,Nxb2,Bd4,Bxd4,Rxd4,Nc4,Re1,Raf8,f3,Rf5,Re7,R8f7,Rd8+,Kg7,Ree8,Rd5,Rg8+,Kf6,Rc8,Rd6,Kf2,a5,g4,Rg7,Rgf8+,Kg6,h4,h5,g5,Ne5,Kg3,Rf7,Rg8+,Rg7,Rgf8,Rd3', 'Rf6+,Kh7,Rh6#', 'https://lichess.org/training/W0FtJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0g0D', 'Rapid', 'DAVID-GUEVARA1', 1855, 'OtoPatama', 1878, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c3,Bg7,g3,Nf6,Bg2,e5,Nb5,O-O,Nd6,Ne8,Nxc8,Rxc8,O-O,d6,c4,Qb6,b3,Nc7,Qxd6,Rcd8,Qa3,Ne6,Be3,Ncd4,Qb2,Qa5,Nc3', 'Qxc3,Qxc3,Ne2+,Kh1,Nxc3', 'https://lichess.org/training/W0g0D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0GoA', 'Rapid', 'spontaneously_erect', 1944, 'obolfazl', 1738, 'e3,a6,d4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bd3,O-O,O-O,c5,Re1,b6,Ne5,Bb7,g4,Nfd7,cxd5,Nxe5,dxe5,exd5,Qf3,Qd7,e4,c4,Bc2,d4,Nd5,Bc5,Bf4,Nc6,a3,a5,Rad1,Rfe8,Qg3,Nxe5,Bxe5,Bxd5,exd5,Qxd5,Bf4,d3,Bxd3,cxd3,Rxe8+,Rxe8,Qxd3,Qxd3,Rxd3,h6,Be3,Bxe3,fxe3,f6,Rb3,Re6,Kf2,Kf7,Ke2,Kg6,h4,Rc6,Rb5,Re6,a4,Rc6,b3,Kf7,Kf3,Kg6,e4,Kf7,Kf4,Ke6,h5,Rd6,Ke3,Rc6,Rd5,Rc3+,Rd3,Rxd3+,Kxd3,Ke5,Ke3,Kd6,Kd4,Kc6,Kc4,Kd6,Kb5,Kc7,Ka6,Kc6,Ka7,Kc7,Ka6,Kc6,Ka7,b5', 'Ka6,b4,Kxa5,Kc5,Ka6', 'https://lichess.org/training/W0GoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0GUg', 'Classical', 'Beetlegeuse275', 1912, 'ESATAJDarkHorses', 1895, 'c4,e6,d4,d6,Nc3,a6,e4,b6,Nf3,h6,Be2,c5,dxc5,bxc5,O-O,Bb7,Bf4,g5,Bg3,h5,h4,g4,Nh2,e5,f3,gxf3,Nxf3,Nd7,Qa4,Nf6,Ng5,Bh6,Rxf6,Qxf6,Rf1,Qe7,Nxf7,Rh7,Nxh6,Rxh6,Rf5,Kd8,Qa5+,Kc8,Rg5,Rh8,Bxh5,Nf6,Bf3,Kd7,Qa4+,Bc6,Qd1,Rag8,Bxe5,Rxh4,Bxf6,Qh7,Bg4+,Kc7,Bh3,Bxe4,Nxe4,Rxe4,Bf5,Rge8,Bxe4,Qxe4,Rg7+,Kc8,Bc3', 'Qe3+,Kf1,Rf8+', 'https://lichess.org/training/w0GUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0ict', 'Blitz', 'Murilo19t', 1531, 'TerribleMita', 1525, 'e4,b6,Nf3,Bb7,d4,Bxe4,Nc3,Bb7,Bc4,e6,O-O,Bd6,d5,c6,dxe6,fxe6,Bg5,Qc7,Bxe6,dxe6,Re1,Bxh2+,Kh1,Bd6,Rxe6+,Be7,Qe2,h6,Bxe7,Nxe7,Re1,O-O,Rxe7,Qc8,Ne5,c5,Ng6', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/w0ict');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0jCB', 'Rapid', 'Kapa59', 2030, 'lchong', 2036, 'f4,f5,Nf3,Nf6,e3,e6,b3,Nc6,Bb2,Be7,Bb5,O-O,Ne5,a6,Bxc6,bxc6,O-O,Bb7,d3,d6,Nc4,Qe8,Nbd2,c5,Nf3,Ng4,Qe2,Rd8,h3,Nf6,Nfd2,Qg6,Kh2,Nh5,g4,fxg4,hxg4,Nf6,Rg1,Nd5,Kg3,Qf7,Ne4,Nxf4,exf4,Qxf4+,Kg2,Bh4,Raf1,Bxe4+,Qxe4', 'Qg3+,Kh1,Qh3#', 'https://lichess.org/training/W0jCB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0jpj', 'Blitz', 'IM ChessHobbits99', 2562, 'john-orlando99', 2451, 'e4,e6,c4,d5,cxd5,exd5,Qb3,dxe4,Bc4,Qe7,Nc3,Nf6,d3,exd3+,Be3,Nc6,O-O-O,Bf5', 'Qxb7,Rb8,Qxc6+', 'https://lichess.org/training/W0jpj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0jqE', 'Rapid', 'veteran64', 1835, 'Finelya', 1867, 'd4,d5,Nf3,Nf6,Bg5,h6,Bf4,Nc6,e3,g5,Bg3,g4,Ne5,Nxe5,Bxe5,Bf5,Nd2,Qd7,a4,O-O-O,Nb3,Kb8,Nc5,Qc8,c3,h5,Qb3,Ka8,Ba6,bxa6,a5,h4,Qa4,c6,Ra3,Bg7,Rb3,Bd7', 'Rb8+,Qxb8,Bxb8', 'https://lichess.org/training/w0jqE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0jY6', 'Rapid', 'psunny', 1849, 'Mohammadkashi', 1759, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,c5,O-O,Bd6,f4,Qh4,Qf3,a6,Bc4,Bc7,a3,d6,b4,Be6,c3,O-O-O,cxd4,cxd4,Bb2,Bb6,Rc1,Kb8,b5,a5,a4,Ne7,Nd2,d5,exd5,Bxd5,Bxd5,Nxd5,Nc4,Bc7,g3,Qf6,Re1,Rhe8,Rac1,Nb4,b6,Bxb6,Nxb6,Qxb6,Rxe8,Rxe8,Rc4,Re3,Qg4,Nxd3', 'Qc8+,Ka7,Bxd4,Re1+,Kg2,Qxd4,Rxd4', 'https://lichess.org/training/W0jY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0maq', 'Classical', 'grao_de_bico', 1636, 'rajt7', 1677, 'd4,d6,c4,c6,Nc3,Qc7,e4,e5,Nf3,Bg4,Be2,Bh5,O-O,Nf6,Bg5,Be7,Rc1,Nbd7,d5,O-O,b4,Rad8,c5,dxc5,Bxf6,Nxf6,bxc5,Bxc5,Na4,Bb6,Nxb6,Qxb6,d6,Nxe4,Nxe5,Bxe2,Qxe2,Nxd6,Rb1,Qd4,Rfd1,Qh4,Qg4,Qf6,Nd7,Rxd7,Qxd7,Rd8,Qg4,Re8,Qd4', 'Re1+,Rxe1,Qxd4', 'https://lichess.org/training/w0maq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0N5t', 'Rapid', 'hferrer', 1763, 'Benb0302', 1871, 'd4,d5,e3,Nf6,f4,c5,c3,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Nc6,a3,Bd6,Qb5,a6,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/W0N5t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0noc', 'Bullet', 'qvatoslocos', 1681, 'Engfrost123', 1700, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Re1,g6,c3,Bg7,d4,cxd4,cxd4,Nh6,Nc3,O-O,Be3,Ng4,Bg5,a6,Bf1,Nf6,h3,h6,Bf4,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Re8,Bh2,Rc8,Kh1,Nh7,e5,Ng5,f4,Ne6,Qf3,Bc6,Qe3,Qh4,Bg3,Qh5,Be2,Qf5,Bd3', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/w0noc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0Npj', 'Blitz', 'awinoe', 2287, 'pichirri', 2271, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Nf3,Be7,c5,O-O,b4,a5,b5,b6,c6,Bb4,Bd2,Bxc3,Bxc3,Ne4,Qc2,Qe7,a4,f6,Bd3,f5,Ne5,Qg5,O-O,Rf6,f3,Qe3+,Kh1', 'Ng3+,hxg3,Rh6#', 'https://lichess.org/training/w0Npj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0oxQ', 'Rapid', 'LAAR', 1728, 'kontark', 1740, 'e4,Nc6,c3,Nf6,f3,e6,d4,Be7,Bd3,O-O,Be3,d5,e5,Nd7,Qc2,g6,g3,Bg5,f4,Bh6,Nf3,f6,Bxg6,hxg6,Qxg6+,Bg7,h4,Qe7,h5,Qf7,Nh4,Qxg6,hxg6,Ne7,Nd2,Nf5,Nxf5,exf5,Nf3,fxe5,Nxe5,Bxe5,fxe5,Kg7,Bh6+,Kxg6,Bxf8,Nxf8,Ke2,Be6,Rag1,Nh7,Kf3,Ng5+,Kf4,Rf8,Rh2,Ne4,Rgh1,Bg8,Rh6+,Kg7,R6h5,Nf2,R1h2,Nd3+,Kg5,f4,gxf4,Nxf4,R5h4,Ne6+,Kg4,Rf4+,Kg3,Rxh4,Rxh4,Bf7,Rg4+,Kh6,Kh4,Ng7,Rf4,Kg6', 'Rf6+,Kh7,Rxf7', 'https://lichess.org/training/W0oxQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0P6d', 'Rapid', 'Johnston3', 1893, 'nur_nss', 1950, 'd4,c6,e4,d5,e5,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,a6,Nf3,c5,Ne2,cxd4,Nexd4,Ne7,Bg5,h6,Bh4,Qc7,O-O,Ng6,Bg3,Nd7,Rfe1,Rc8,Rac1,Bc5', 'Nxe6,fxe6,Qxg6+', 'https://lichess.org/training/w0P6d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0PrR', 'Rapid', 'milad-iran71', 1923, 'Kebliment', 1930, 'e4,e5,Bc4,Nc6,Qf3,Nf6,Ne2,Bc5,Nbc3,O-O,d3,h6,Qg3,Kh7,f4,Nh5,Qh3,Nxf4,Nxf4,exf4', 'Qf5+,Kh8,Qxc5', 'https://lichess.org/training/w0PrR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0PUX', 'Rapid', 'Lahnstein', 1651, 'SchachEkke', 1877, 'e4,d5,e5,c5,Nf3,e6,Bb5+,Nc6,O-O,a6,Bxc6+,bxc6,c3,Ne7,d4,c4,Bg5,h6,Bh4,Qb6,Qd2,Rb8,b4,cxb3,axb3,Qxb3,Qe3,Nf5,Qd3,Nxh4,Nxh4,Be7,Nd2,Qb5,Qh3,Qe2,Nhf3,Qd3,Rfc1,Rb2,Rab1,Rxd2,Nxd2,Qxd2,g4,Qg5,f3,f5,Kh1,f4,Rb8,O-O,Qf1,Qg6,Rb6,a5,Rxc6,Qe8,Rb6,Bd8,Rbb1,Qc6,Ra1,Ba6,Qf2,Bc4,Qb2,Bc7,Rcb1,Rb8,Qa3,Rxb1+,Rxb1,a4,Rb4,Bb3,Qb2,Ba5,Rb8+,Kf7,h4,Bxc3,Qa3,Qd7,Qf8+,Kg6,h5+,Kg5,Rb7,Qxb7', 'Qd8+,Qe7,Qxe7#', 'https://lichess.org/training/W0PUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0pVt', 'Classical', 'IgarapeMG', 1895, 'The_Big_Man_Stan', 1973, 'e4,e6,e5,d5,exd6,Bxd6,Nf3,Nf6,d4,Nc6,Nc3,Bd7,Nb5,Be7,Be3,Nd5,Bd2,a6,Nc3,b5,a3,Bf6,Nxd5,exd5,Be3,Na5,Be2,Nc4,Bxc4,dxc4,c3,Bg4,h3,Bh5,g4,Bg6,g5,Be7,h4,Bh5,Rh3,Qd7,Rg3,Bd6,Kf1,Bxg3,fxg3,O-O,Bf4,f6,Kf2,fxg5,hxg5,Qd5,Qh1,g6,Re1,Rae8,Ne5,Rxe5,dxe5,Qd2+,Kf1,Rxf4+,gxf4,Qxf4+,Kg1,Bf3,Qh2,Qxg5+,Kf1,Qf5,e6,Bd5+,Qf2', 'Qh3+,Kg1,Qh1#', 'https://lichess.org/training/w0pVt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0Q0b', 'Rapid', 'stefvoss', 1698, 'deb9851', 1734, 'd4,d5,c4,dxc4,Nf3,c6,a4,a6,Nc3,Bd7,e4,b5,axb5,cxb5,b3,cxb3,Qxb3,Nc6,Bf4,e6,Be2,Bb4,O-O,Bxc3,Qxc3,Nge7,d5,e5,Nxe5,Nxe5,Bxe5,f6,Bg3,O-O,Bd6,Re8,Bd3,Nc8,Ba3,Nb6,f4,Rc8,Qe1,Na4,Bb4,Qb6+,Kh1,Qd4,Rd1,Nb2,Qd2,Nxd1,e5,Nb2', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/w0Q0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0VhV', 'Blitz', 'tghare', 2334, 'IiroRantal', 2208, 'd4,c5,d5,Nf6,c4,Ne4,f3,Qa5+,Nd2,Nd6,e4,g6,Bd3,Bg7,Ne2,b5,O-O,bxc4,Nxc4,Nxc4,Bxc4,Ba6,Qc2,O-O,Bd2,Qb6,Rab1,Rc8,Kh1,d6,f4,Bxc4,Qxc4,Qa6,Qxa6,Nxa6,Bc3,Rab8,Bxg7,Kxg7,Nc3,c4,Rfc1,Nc5,Kg1,Nd3,Rc2,Nxf4,Kf2,Nd3+,Ke3,Ne5,h3,Rb4,Rf1,Rcb8,Nd1,a5,Rc3,a4,Rf2,Nd3,Rfc2,Nxb2,Nxb2,Rxb2,Rxc4,Rxc2,Rxc2,a3,Kd3,Rb2', 'Rxb2,axb2,Kc2,b1=R,Kxb1', 'https://lichess.org/training/W0VhV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0vxx', 'Rapid', 'just4fun_es', 1829, 'jagadish305', 1792, 'e4,g6,Nc3,Bg7,d4,b6,f4,Bb7,Nf3,e6,Bd3,d6,O-O,Nd7,a4,Ne7,a5,bxa5,Rxa5,c5,Ra1,cxd4,Nb5,O-O,Nxd6,Bc6,e5,Nc8,Nc4,f6,Nxd4,Bd5,Ne3,fxe5,fxe5,Bxe5,Nf3,Bxf3,Rxf3,Bd4,Be4,Bxe3+,Bxe3,Rb8,Bd4,a5,Bc3,Qe7,Qd4,e5,Rxf8+,Kxf8,Qf2+,Kg7,Re1,Nd6,Bd5,Rf8,Qd2,Nb5,Bxa5,Rf5,Be4,Rf4,Bb4,Qe6,Bd5,Qf5,Bc4,Nd4,Bd3,Qf6,Bc3,Qg5,g3', 'Nf3+,Kg2,Nxd2', 'https://lichess.org/training/w0vxx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w0Xdc', 'Rapid', 'iver_SA', 1673, 'XonkiZ', 1677, 'd4,d5,c4,Bf5,Nc3,e6,e3,Bb4,Nf3,Nf6,cxd5,Bxc3+,bxc3,Qxd5,Be2,Bg4,Ba3,Ne4,Qc2,Qa5,Bb4,Qd5,O-O,Nc6,Ba3,O-O-O,c4,Qf5,Bb2,Nb4,Qc1,Bxf3,Bxf3,Ng5,Be2,Qc2,Qxc2,Nxc2,Rac1,Nb4,Ba3,Nc6,c5,a6,Bd3,f5,f4,Nf7,Be2,g5,g4,h6,Bf3,Ne7,c6,Nxc6,Bxc6,bxc6,Rxc6,Nd6,Bxd6,Rxd6,Rfc1,Rh7', 'Rxd6', 'https://lichess.org/training/w0Xdc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W0xgD', 'Classical', 'JosefUe', 1959, 'coolstar10', 1780, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,Re1,Nc5,Bxc6,bxc6,Nxe5,Be7,d4,Ne6,c4,O-O,Nc3,Bb7,d5,cxd5,cxd5,Nc5,Qg4,d6,Nf3,Bc8,Qg3,Rb8,Rb1,Bf6,Bg5,h6,Bxf6,Qxf6,Qh4,Qxh4,Nxh4,g5,Nf3,Bf5,Rbc1,Rxb2,Re7,Nd3,Ra1,Rc8,Nd4,Bg6,Nd1,Rd2,Nc6,Kf8,Re3,Nf4,Nc3,Re8,Rxe8+,Kxe8,Re1+,Kd7', 'Re7+,Kc8,Re8+,Kb7,Rb8#', 'https://lichess.org/training/W0xgD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W15Xo', 'Rapid', 'Ch4mp', 1788, 'XTIANC90', 1760, 'e4,c6,Nc3,d5,d4,dxe4,f3,exf3,Nxf3,Nf6,Bc4,e6,O-O,Be7,Be3,O-O,Kh1,Nbd7,h3,Nb6,Bd3,Qc7,Ne5,Nbd5,Nxd5,Nxd5,Bd2,Bd6,Qh5,f5,Rae1,Nf6,Qg5,Bd7,a3,Rae8,b4,Be7,Qf4,Nd5,Qf2,b6,c4,Nf6,Bc2,c5,Bc3,Bd6,Bb3,Ne4,Qe3,Bc8,Bc2,Bb7,Bb2,Bxe5,dxe5,cxb4,axb4,Qxc4,Re2,Bd5,Kh2,Rc8,Rc1,Qb5,g4,f4,Qd3,Qxd3,Bxd3,Ng3,Rec2,Rxc2+,Rxc2,h5,Rc7,hxg4,hxg4,Rf7,Rc8+,Rf8,Rc7,Rd8,Rxa7,Bf3,Ra3,Bxg4,Kg2,g5,Bc1,Rd7,Rc3,Rh7', 'Rc8+,Kg7,Rc7+', 'https://lichess.org/training/W15Xo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W16ut', 'Rapid', 'KAmilo12', 1801, 'MS_Rajan', 1817, 'd4,d6,e4,e6,Nf3,Nf6,Bg5,Be7,Bc4,d5,exd5,exd5,Bd3,O-O,h3,c6,O-O,Ne4,Bxe7,Qxe7,Nbd2,f5,Re1,Qf6,c3,Qg6,Ne5,Qh6,Nxe4,fxe4,Be2,Bxh3,gxh3,Qxh3,Bg4,Qh4,Be6+,Kh8,Nf7+,Kg8,Qd2,Rxf7,Bxf7+,Kxf7,Qe3,Nd7,Qg3,Qh6,f3,e3,f4,Re8,Rxe3,Rxe3,Qxe3,Nf6,Qe5,Qg6+,Qg5,Qc2,Qe5,Qxb2,Qc7+,Kg6,f5+,Kxf5,Rf1+,Kg6,Qg3+,Kf7,Qc7+,Kg6,Kh1,Qxc3', 'Rg1+,Ng4,Rxg4+', 'https://lichess.org/training/W16ut');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w1CjT', 'Rapid', 'duca83', 1986, 'oximahos', 1728, 'd4,Nf6,Bf4,c5,dxc5,Na6,e3,Nxc5,h3,Qb6,b3,g6,Be5,Bg7,Nd2,d6,Bb2,O-O,Nc4,Qd8,Nf3,b5,Ncd2,Bb7,Bxb5,Bxf3,Nxf3', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/w1CjT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w1d7J', 'Blitz', 'calaca', 1762, 'tosunaysu', 1672, 'e4,d5,exd5,Nf6,c4,Bd7,Nc3,a6,d4,b5,b3,b4,Nce2,e6,dxe6,Bxe6,Nf4,Bf5,Nf3,Be7,Be2,O-O,O-O,Ne4,Bb2,Nc3,Bxc3,bxc3,Bd3,Bc8,Qc2,Bb4,Bxh7+,Kh8,Bd3,Nc6,a3,Be7,Qxc3,Bf6,Ne5,Nxd4,Nd5,Bxe5,Qe1,Re8,Qd1,c6', 'Qh5+,Kg8,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/w1d7J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w1Ej1', 'Rapid', 'Magaca', 1657, 'fhigor', 1628, 'e4,c5,Nf3,Nf6,Nc3,d6,d4,cxd4,Nxd4,a6,Be2,e6,Be3,Be7,O-O,O-O,f4,Bd7,f5,exf5,Nxf5,Bxf5,exf5,Nc6,Nd5,Nxd5,Qxd5,Bf6,c3,Qc7,Kh1,Rfe8,Qd2,Re7,Bf4,Rd8,Rad1,Ne5,Qd5,g5,Bg3,Qd7,Bh5,Qc6,Qb3,Rde8,Rfe1,Qd7,Qc2,d5,Re2,Nc4,Rde1,Rxe2,Rxe2,Ne3,Qd3,Nxf5', 'Rxe8+,Qxe8,Qxf5', 'https://lichess.org/training/w1Ej1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W1hUO', 'Rapid', 'tammino', 1627, 'Skyfall747', 1922, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,c6,h3,g6,Nf3,Bg7,Nxd5,cxd5,Bb3,O-O,d3,Nc6,a3,e5,O-O,e4,Nh2,Be6,Ng4,f5,Ne3,Re8,dxe4,dxe4,Qe2,Bxb3,cxb3,Qb6,b4,Nd4,Qc4+,Kh8,Nd5,Qd6,Rb1,Rac8,Qa2,Red8,Nc3,Qe6,Qxe6,Nxe6,Be3,a6,Bb6,Rd6,Be3,Bxc3,bxc3,Rxc3,Ra1,Nc7,Bc5,Rdd3,Rfe1,Rxa3,Rxa3,Rxa3,Rd1,Rd3,Rc1,Nb5,Be3,Nc3', 'Rxc3,Rxc3,Bd4+,Kg8,Bxc3', 'https://lichess.org/training/W1hUO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W1KIa', 'Rapid', 'lawler', 1647, 'VaselineTopalov', 1814, 'd4,d5,Nc3,c6,h3,Bf5,g4,Bg6,Bg2,e6,Nf3,Nf6,Bd2,h6,O-O,Bd6,Qe1,Be4,Ne5,Nbd7,Bxe4,dxe4,Bf4,Nd5,f3,Nxf4,fxe4,Bxe5,dxe5,Nxh3+,Kg2,Ng5,Rd1,O-O,Rf4,Qc7,Qf2,Nxe5,Rf1,Rad8,e3,Nc4,e5,Rd2,Ne2,Qxe5,Rxc4,Ne4,Qf3,Rxe2+,Qxe2,Qg3+,Kh1,Qh3+,Kg1,Ng3,Qg2,Qh4,Rf3,Nh1,Qxh1,Qe1+,Rf1,Qxe3+,Kh2', 'Qe2+,Kg3,Qxc4', 'https://lichess.org/training/W1KIa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W1KNx', 'Rapid', 'flowash', 1900, 'subpixel', 1995, 'd4,Nf6,Nc3,d5,Bf4,Bf5,e3,e6,Nf3,h6,h3,Bd6,Ne5,Nbd7,Nb5,Bxe5,dxe5,Ne4,f3', 'Qh4+,g3,Nxg3,Bxg3,Qxg3+', 'https://lichess.org/training/W1KNx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W1lBW', 'Rapid', 'Predaptor', 1673, 'Omega76', 1711, 'e4,c6,d4,d5,e5,Bf5,h3,e6,Nf3,Nd7,Nc3,a6,a3,c5,Be3,cxd4,Bxd4,h6,Bd3,Bxd3,Qxd3,Ne7,O-O,Nc6,Rfe1,Be7,Ne2,O-O,Ng3,Re8,b4,b5,Rad1,Bf8,c3,Rc8,Qe3,Qe7,Nh2,f5,exf6,Nxf6,Bxf6,Qxf6,Ng4,Qf7,Rc1,Bd6,Nf1,e5,Nd2,e4,Nb3,h5,Nh2,Ne5,Nd4,Nd3,Qg5,Nxe1,Nf5,Bb8', 'Nh6+,Kf8,Nxf7', 'https://lichess.org/training/W1lBW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w1NkN', 'Rapid', 'cyndaquil1', 1909, 'Jouni52', 1861, 'e4,e6,d4,d5,Nc3,Bb4,e5,Ne7,a3,Bxc3+,bxc3,Ng6,Bd3,c5,Nf3,c4,Be2,O-O,Bg5,f6,exf6,gxf6,Bh6,Rf7,O-O,Nd7,Re1,Ndf8,g3,b6,Bf1,Qc7,Bh3,e5,Bxc8,Rxc8,dxe5,fxe5,Qxd5,Qc6,Qxc6,Rxc6,Bxf8,Rxf3,Bb4,Rcf6,Re2,h5,Kg2,h4,Rae1,hxg3,hxg3,R3f5,Rd1,Rg5,Kg1,Nf4,Re4,Nh3+,Kh2,Nxf2,Rd8+,Kg7,Re2,Ng4+,Kg2,Rgf5,Be7,Rf2+,Rxf2,Rxf2+,Kh3,Nh6,Bh4,e4,Re8,Nf5,Rxe4,Nxh4,Kxh4,Rxc2,Re7+,Kg6,Rxa7,Rxc3,Ra6,Rb3,Ra8,c3,Rc8,Rxa3,Rc6+,Kf5,g4+,Ke4,g5,Kd5,Rc8,b5,g6,Ra4+,Kg5,Rc4', 'Rxc4,Kxc4,g7,c2,g8=Q+', 'https://lichess.org/training/w1NkN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w1oAz', 'Rapid', 'Dima_MelnikoWd', 1651, 'vilkhalilov123', 1671, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,h3,Nf6,Re1,O-O,c3,a6,Ba4,Bd7,d4,exd4,cxd4,Bb4,Bd2,a5,Bxb4,Nxb4,Bb3,Be6,a3,Bxb3,Qxb3,Nc6,Qxb7,Ne7,Qb3,Rb8,Qc3,d5,e5,Ne4,Qc2,Nf5,Nbd2,Nxd2,Qxd2,Qd7,Qxa5,Rxb2,Qc3,Rfb8,a4,R2b3,Qc2,g6,Reb1,Rxb1+,Rxb1,Rxb1+,Qxb1,Qxa4,Qb8+,Kg7,Qxc7,Nxd4,Nxd4,Qxd4', 'e6,Qf6,e7,Qa1+,Kh2', 'https://lichess.org/training/w1oAz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w1r0O', 'Rapid', 'hazemtaher', 1679, 'SirAEminSS', 1786, 'e4,c5,d4,e6,d5,e5,Nf3,f6,d6,Qb6,Bc4,Bxd6,Bxg8,Rxg8,Qd5,Rh8,Be3,Be7,b3,Nc6,Nc3,Nb4,Qd2,d6,Nd5,Nxd5,Qxd5,Qb4+,Nd2,Qc3,O-O,Qxc2,Rfc1,Qb2,a3,Rb8,Kf1,b6,Nc4,Qxb3', 'Nxd6+,Bxd6,Qxb3', 'https://lichess.org/training/w1r0O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W1rSN', 'Blitz', 'zazaprens', 1665, 'qleli', 1665, 'e4,e6,d4,d5,e5,c5,c3,Bd7,Nf3,Nc6,Bd3,cxd4,cxd4,Qb6,Bc2,Nb4,O-O,Nxc2,Qxc2,Ne7,Nc3,Nf5,Be3,Rc8,Qd2,Bb4,Rab1,O-O,a3,Nxe3,fxe3,Bxc3,bxc3,Qa6,Qf2,Rxc3,e4,dxe4,Ng5,e3,Qh4,Qd3,Nxf7,Rcc8,Ng5,Rxf1+,Rxf1,Qxf1+,Kxf1', 'Bb5+,Kg1,Rc1+,Qe1,Rxe1#', 'https://lichess.org/training/W1rSN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W1rU6', 'Rapid', 'RudiCigelski', 2087, 'chadid', 2138, 'e4,c5,Nc3,d6,f4,Nf6,Bc4,e6,Nf3,Be7,O-O,O-O,Qe1,Nc6,a3,a6,d3,b5,Ba2,Bb7,f5,e5,Bg5,Nd4,Nxd4,cxd4,Ne2,Rc8,Rc1,Ng4,Qg3,Ne3,Bxe3,dxe3,Qxe3,Bg5,Qg3,Bxc1,f6,g6,Nxc1,d5,Qh4,Kh8,Qh6,Rg8,Rf3,Rxc2', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/W1rU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W1sTW', 'Classical', 'Merelbeke', 1908, 'usyu001', 1898, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Qe7,Qe2,Ng8,Nf3,Nc6,d4,d6,Bxf4,Bg4,Nd5,Bxf3,gxf3,Nxd4,Qe4,Qh4+,Kd1,O-O-O,Qxd4,dxe5,Qc4,Rxd5+,Qxd5,Qxf4,Bh3+,f5,Qe6+,Kd8,Bxf5,Qxf3+,Kd2,Qf2+,Kc3', 'Qd4+,Kb3,Qb4#', 'https://lichess.org/training/W1sTW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W1TEA', 'Rapid', 'Tunayyy', 2370, 'Alborado', 2329, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,f5,d3,Nf6,exf5,d6,d4,b5,Bb3,e4,Ng5,d5,Ne6,Bxe6,fxe6,Qd6,O-O,Qxe6,Nc3,Bd6,Bg5,Ne7,f3,b4,Nxe4,Nxe4,fxe4,Qxe4,Bxe7,Bxe7,Qh5+,g6,Qxd5,Qxd5,Bxd5,O-O-O,Be6+,Kb7,Rf7,Rhe8,d5,Bc5+,Kh1,Re7,Raf1,Rde8,h4,Kb6,R1f6,Bd4,Bd7+,Bxf6,Rxf6+,Kb7,Bc6+,Ka7,Bxe8,Rxe8,Rf7,Kb6,Rxh7,Rd8,Rg7,Rxd5,Rxg6+,c6,Kh2,Rd2,Kh3,Rxc2,h5,Rxb2,h6,Rb1,Kg4,Rh1,Kg5,a5,Rg7,c5,h7,c4', 'Rg6+,Kc5,Rh6,Rxh6,Kxh6', 'https://lichess.org/training/W1TEA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w1v4i', 'Rapid', 'CitronSauvage', 1925, 'ibrahimsseka', 1909, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bc5,Nxc6,Bxf2+,Kf1,bxc6,Bxc6+,Bd7,Qxd5,O-O,Qxe4,Bb6,Bxa8,Bb5+,c4', 'Qd1+,Qe1,Bxc4#', 'https://lichess.org/training/w1v4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w1Y4P', 'Blitz', 'nikitafedorov', 2315, 'FM WelshTiger', 2339, 'd4,f5,Bf4,d6,Nf3,Nf6,e3,g6,Bd3,Bg7,h4,h6,Nbd2,O-O,h5,g5,Nxg5,hxg5,Bxg5,Nh7,h6,Bf6,f4,e5,Qh5,Bxg5', 'Qg6+,Kh8,Qg7#', 'https://lichess.org/training/w1Y4P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w24YE', 'Rapid', 'Alexan1978', 1675, 'lordmagnus150', 1635, 'b3,Nc6,Bb2,b6,g3,Bb7,Bg2,Nf6,Nh3,g6,g4,h6,g5,hxg5,Nxg5,Bg7,a3,Rg8,Ra2,d6,e3,e5,Nc3,Nh5,Nge4,d5,Ng3,Nxg3,hxg3,Qd6,Nb5,Qe7,Qg4,d4,Qh4,Bf6,Qe4,dxe3,fxe3,O-O-O', 'Nxa7+,Nxa7,Qxb7+', 'https://lichess.org/training/w24YE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W29Wu', 'Rapid', 'usay', 1805, 'jon218', 1781, 'e4,e5,f4,exf4,Nf3,d6,d4,Bg4,Bxf4,Nf6,Nc3,Nc6,Bb5,a6,Bc4,h6,O-O,Be7,Qd3,O-O,e5,Bxf3,Qxf3,dxe5,dxe5,Bc5+,Kh1,Nd7,Rad1,Qe8,Qg3,Kh8,Nd5,Bb6,Rde1,Rd8,Nf6,Qe7,Nxd7,Rxd7,e6,fxe6,Rxe6,Qc5,Bxh6', 'Rxf1+,Bxf1,Qg1#', 'https://lichess.org/training/W29Wu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w2b3c', 'Blitz', 'BerlinBeiNacht', 1544, 'JoeStoa', 1533, 'd4,d5,Nf3,Nc6,Nc3,Bf5,a3,Qd6,g3,e5,dxe5,Nxe5,Bf4,f6,Nb5,Qc6,e3,Nxf3+,Qxf3,Qxc2,Nxc7+,Kf7,Qxd5+,Kg6,Nxa8,Qxb2,Rd1,Qc3+,Qd2,Qxa3,Bd3', 'Bb4,O-O,Bxd2,Bxf5+,Kxf5', 'https://lichess.org/training/w2b3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W2b9E', 'Rapid', 'mr_math27', 1826, 'yash1306', 1870, 'e4,c5,Nf3,d6,c3,Nf6,Be2,e6,O-O,Be7,d4,b6,e5,dxe5,dxe5,Nd5,c4,Nc7,Qxd8+,Bxd8,Nc3,Bb7,Bg5,Bxg5,Nxg5,Nd7,Nce4,Bxe4,Nxe4,Nxe5,f4,Ng6,Nd6+,Ke7,Ne4,Rad8,f5,exf5,Rxf5,Ne6,Raf1,Rhf8,Ng3,Rd2,Rd1,Rxb2,Rfd5,Nd4,Bg4,Rxa2,Rd7+,Ke8,Re1+,Ne6,Bxe6,fxe6,Rxg7,Ne5,Rb7,Nxc4,Rxe6+,Kd8,Re1,Ne3', 'Rb8+,Kd7,Rxf8', 'https://lichess.org/training/W2b9E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W2BIQ', 'Blitz', 'Tltdev', 1569, 'mx175', 1619, 'e4,e6,e5,d5,d4,c5,c3,Qb6,Nf3,Nc6,Be3,Qxb2,Nbd2,c4,Qc1,Ba3,Qxb2,Bxb2,Rb1,Bxc3,Rc1,Ba5,Be2,Nge7,O-O,Nf5,g4,Nxe3,fxe3,Bxd2,Nxd2,h6,h4,a6,Bd1,O-O,Bc2,Nb4,Bb1,Nc6,Nf3,b5,g5,h5,g6,fxg6,Ng5,Rxf1+,Rxf1,Bd7,Bxg6,Rf8', 'Bh7+,Kh8,Rxf8#', 'https://lichess.org/training/W2BIQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W2bl0', 'Classical', 'AitMeddourM', 1788, 'Alexandr2017', 1809, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Nxe5,Rxe5+,Be7,Ba4,O-O,d3,Bf6,Re1,Nf5,c3,d6,Nd2,Nh4,Ne4,Be6,g3,Ng6,d4,Be7,Bd2,d5,Nc5,Bxc5,dxc5,Qf6,Qe2,c6,Be3,Ne5,Bd4,Nf3+,Kh1,Nxd4,cxd4,Qxd4,Qc2,Qg4,Re5,f6,Re3,d4', 'Rxe6,Qxe6,Bb3', 'https://lichess.org/training/W2bl0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W2bvT', 'Classical', 'H0ffi', 1902, 'InEgra', 1986, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bd2,c5,Nf3,d5,e3,Nc6,Bd3,dxc4,Bxc4,cxd4,exd4,Nxd4,Nxd4,Qxd4,Qa4+,Bd7,Qxb4,Rc8,b3,b5,Nxb5,Qxa1+,Ke2,Qe5+,Be3,a6', 'Nd6+,Kf8,Nxc8+', 'https://lichess.org/training/W2bvT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W2DjY', 'Rapid', 'FM Casuallyyy', 1770, 'falconeone', 1775, 'd4,e6,c4,Nf6,Nf3,Bb4+,Nbd2,O-O,a3,Be7,e4,d6,e5,Ne8,Qc2,f5,exf6,Bxf6,Bd3,g6,b4,b6,Ne4,Bg7,h4,c5,h5,d5,Neg5,h6,hxg6,hxg5,Bxg5,Nf6,Ne5,Qd6,f4,cxb4,g4,bxa3,Qh2,Qb4+,Kf1,Nbd7,Qh7+,Nxh7', 'gxh7+,Kh8,Ng6#', 'https://lichess.org/training/W2DjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W2evm', 'Rapid', 'Debabrot_phukan', 1865, 'the_INVICTUS', 1859, 'd4,Nf6,c4,d5,Nc3,c6,Bf4,Bf5,e3,e6,Bd3,Bg6,Bxg6,hxg6,Nf3,Nbd7,cxd5,exd5,O-O,Nh5,Re1,Be7,Rc1,g5,Bg3,f5,h3,Nxg3,fxg3,g4,Nh4,Bxh4,gxh4,Qxh4,Ne2,gxh3,gxh3,Qxh3,Nf4,Qh1+,Kf2,Rh2+', 'Kg3,Qe4,Kxh2', 'https://lichess.org/training/W2evm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W2GMa', 'Rapid', 'mefistofel82', 1833, 'pedro_mallmann', 1840, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Nf6,O-O,e6,c3,Bd6,Bg5,Nbd7,h3,Bh5,Re1,Qb6,b4,Bc7,a4,Qd6,g3,Ne4,Bf4,e5,Nxe5,O-O,Bxh5,Nxe5,Bxe5,Qd7,Bg4,f5,Bxc7,Qxc7,Bf3,Kh8,Bxe4,fxe4,Re3,Rf6,Qe2,Raf8,Na3,Rxf2,Qxf2,Rxf2,Kxf2,Qc6,Nc2,Qc4,Rae1,Qa2,R1e2,Qxa4,Ne1,Qd7,Kg2,b6,Kh2,Qf7,Kg2,g6,Rf2,Qg7,Kh2,Kg8,Ng2,g5,h4,h6,Re1,Qc7,Ref1,Qxc3,Rf8+,Kg7,h5,Qc7,R8f7+,Qxf7,Rxf7+,Kxf7,Ne3,Ke6,g4,a5,bxa5,bxa5,Kg2,a4,Nc2,Kd6,Kf2,Kc6,Ke2', 'Kb5,Kd2,Kc4,Ne3+,Kxd4', 'https://lichess.org/training/W2GMa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w2HXs', 'Classical', 'joelchess', 1892, 'Etnik_FM', 2007, 'd4,Nf6,Bf4,d5,c4,e6,e3,c5,Nf3,Nc6,cxd5,Nxd5,Bg5,f6,Bh4,cxd4,Nxd4,Bb4+,Nd2,Nxd4,exd4,Nf4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/w2HXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w2isZ', 'Rapid', 'qdqd0917', 1744, 'karpovcrazy', 2125, 'd4,d5,c4,e6,a3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nc3,O-O,Nf3,c6,e4,dxe4,Nxe4,Be7,b4,Nd7,c5,Nf6,Bd3,Nxe4,Bxe4,Bf6,O-O,Qd7,Qd3,g6,g4,Bg7,Ne5,Qc7,Nc4,f5,gxf5,exf5,Bg2,Be6,Rad1,Rad8,Nd6,Rf6,f4,Bf8,Nc4,Bxc4,Qxc4+,Kg7,d5,cxd5,Rxd5,Rf7', 'Qd4+,Kg8,Rxd8', 'https://lichess.org/training/w2isZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W2itj', 'Rapid', 'Bakjopec', 1810, 'Daynier', 1782, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Nf6,Nc3,Be7,b3,O-O,Bb2,d5,exd5,cxd5,Kh1,c6,Qd3,Ne4,Nxe4,dxe4,Qxe4,Re8,Qxc6,Rc8,Qf3,Rxc2,Rfd1,Qa5,Bd4,Bc5,Qc6,Rf8,Bxc5,Rxc5,Qe4,Rfc8,b4,Qa4,Re1,Rc4,Qe7,Rxb4,Rac1,Rcb8,a3,Rb3,Rc7,Rf8', 'Qxf8+,Kxf8,Rc8+,Qe8,Rexe8#', 'https://lichess.org/training/W2itj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w2jab', 'Rapid', 'jb75009', 1977, 'nvidia25', 1869, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,O-O,a4,b4,d4,d6,h3,Na5,Ba2,Bd7,c3,c5,dxe5,dxe5,Nxe5,Rb8,Nd2,Qc7,Nxd7,Nxd7,cxb4,cxb4,Qf3,Ne5,Qg3,Bd6,Qe3,Bc5,Qe2,b3,Bb1,Qb6,Nf3,Rfe8,Nxe5,Rxe5,Bf4,Rbe8,Bxe5,Rxe5,Bd3,Rg5,Qd2,Qg6,Bf1,Rg3,Kh2,Nc4,Bxc4,Rxg2+,Kh1,Rxf2,Qd8+,Bf8,Rg1', 'Qxe4+,Rg2,Qxg2#', 'https://lichess.org/training/w2jab');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W2khS', 'Rapid', 'Shlin', 2172, 'Gary4713', 2029, 'Nf3,Nc6,d4,d5,g3,Bg4,Bg2,Qd7,O-O,O-O-O,c3,e6,Nbd2,h5,e4,Be7,h3,Bxf3,Bxf3,h4,g4,dxe4,Nxe4,f5,Nc5,Bxc5,dxc5,Qf7,Qa4,fxg4,Bxc6,bxc6,Qxc6,gxh3,Re1,Qg6+,Kh2,Nf6,Qxe6+,Kb8,Rg1,Qc2,Be3,Rhe8,Qb3+,Qxb3,axb3,Nd5,Bg5,Rd7,c4,Nf6,Be3,c6,b4,Re4,b5,Ng4+,Kxh3,Nxe3,fxe3,Rxc4,bxc6,Re7,Rg4,Rxc5,Ra6,g5,e4,Re6', 'c7+,Kxc7,Rxe6', 'https://lichess.org/training/W2khS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w2Rc5', 'Rapid', 'PabloEsco2', 1828, 'Husky_Pawn', 1900, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,d6,Na4,Bb6,Nxb6,axb6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,Be6,Bxe6,fxe6,Bg5,O-O,Bxf6,Qxf6,Qxd6,Qxb2,Qxe6+,Kh8,Rab1,Qxc2,Rxb6,Rxa2,Rxb7', 'Qxf2+,Rxf2,Ra1+,Rb1,Rxb1+,Rf1,Rfxf1#', 'https://lichess.org/training/w2Rc5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w2s9r', 'Blitz', 'Klosferatu', 2193, 'Noel-Olayer', 2207, 'e4,e5,Nf3,Nc6,c3,Bc5,d4,exd4,cxd4,Bb6,d5,Nce7,d6,Ng6,Nc3,Nf6,Bc4,h6,O-O,O-O,e5,Ne8,Qd3,Kh7,g3,cxd6,exd6,Bc5,Nh4,Nxd6,Nxg6,fxg6,Qd5,Nxc4,Qxc5,d5,Nxd5,Nd6,Nc7,b6,Qc3,Ne4,Qe5,Ba6,Nxa6,Nxf2,Rxf2', 'Qd1+,Kg2,Rxf2+,Kxf2,Rf8+,Bf4,Qxa1', 'https://lichess.org/training/w2s9r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W2TJn', 'Rapid', 'Borjika23', 1657, 'MAX_401', 1620, 'e4,e5,Bc4,c6,Nf3,d6,d4,exd4,Nxd4,Nf6,O-O,Be7,Bg5,O-O,Bxf6,Bxf6,c3,Be6,Bxe6,Bxd4,Bxf7+,Rxf7,Qxd4,Nd7,Nd2,Qg5,Nf3,Rxf3,Qxd6,Nf6,Rad1,h6,Qe6+,Kh8,Qe7,b6,Rd8+,Rxd8,Qxd8+,Kh7,Rd1,Nxe4', 'Qxg5,Nxg5,gxf3', 'https://lichess.org/training/W2TJn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w2tO7', 'Rapid', 'soloss', 1834, 'pilgrim88', 1870, 'd4,Nf6,c4,c5,e3,Nc6,Nf3,cxd4,exd4,d5,Nc3,Bg4,cxd5,Nxd5,Be2,e6,a3,Bxf3,Bxf3,Nce7,Bg5,Nxc3,bxc3,Rb8,Bf4,Rc8,Qa4+,Nc6,O-O,Be7,Rfc1,O-O,Bxc6,Rxc6,Qxa7,Qc8,Bd2', 'Ra6,Qxa6,bxa6', 'https://lichess.org/training/w2tO7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W2URJ', 'Blitz', 'EliBaer96', 1906, 'turan_matc_60', 1887, 'e4,e6,d4,d5,exd5,exd5,c4,c6,Nc3,Nf6,Nf3,Be7,cxd5,cxd5,Bg5,O-O,Bb5,Ne4,Nxe4,dxe4,Bxe7,Qxe7,Nd2,a6,Ba4,b5,Bb3,Bb7,O-O,Nd7,Re1,Rfe8,d5,Nf6,Qc2,Bxd5,Bxd5,Nxd5,Rxe4,Qf6,Rae1,Rec8', 'Qxc8+,Rxc8,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/W2URJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w2vUU', 'Blitz', 'FM WhoozitWarriors', 2342, 'Spicylaowai', 2333, 'e4,g6,d4,Bg7,c3,d6,f3,Nf6,Be3,O-O,Nd2,e5,Bd3,exd4,cxd4,d5,e5,Nfd7,Ne2,c5,f4,cxd4,Nxd4,Qh4+,g3,Qe7,O-O,Nc5,Bc2,Bh3,Re1,Nc6,N2b3,Ne4,Bxe4,dxe4,Nxc6,bxc6,Bc5,Qb7,Bxf8,Bxf8,Rxe4,a5,Qe2,a4,Nd4,Rb8,b3,Bc5,Rc1,Ba7,Qc4,axb3,axb3,Qxb3,Qxb3,Rxb3,Rxc6,Rd3,Rd6,Bf5,e6,fxe6,Rd8+,Kf7,Rd7+,Kf6,Rxa7,Bxe4,Ne2,Rd2,Nc3,Bc6,Rc7,Ba8,Ra7,Bc6,Ra6,Bb7,Rb6,Ba8,Rb8,Bc6,Rc8,Bf3,Kf1,Rxh2,Ke1,h5,Rf8+,Ke7,Rc8,Rg2,Rc7+,Kf6,Nb5,Rxg3,Nd6,Bd5', 'Rf7#', 'https://lichess.org/training/w2vUU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w2ZTa', 'Rapid', 'exoashis', 1605, 'denizhan78020', 1612, 'e4,c5,Qf3,d6,Be2,Nc6,c3,Nf6,h3,g6,d3,Bg7,Qg3,a6,Bf3,Bd7,Ne2,b5,d4,cxd4,Nxd4,Ne5,Be2,Nxe4,Qf4,Nf6,Nf3,Nh5,Qe3,O-O,Nxe5,Bxe5,Bxh5,gxh5,Qh6,Qb6,Qg5+,Bg7,Be3,Qc6,O-O,a5,Qg3,Qe4,Qg5,Qg6,Nd2,b4,Qxg6,hxg6,Bd4,Bh6,Nf3,Rac8,cxb4,axb4,Bb6,Rc2,b3,Rb8,Be3,Bg7,Bd4,Bh6,a3,bxa3,Rxa3,e5,Ba7,Rb7,Be3,Bg7,Rd1,Rb2,Rxd6,e4,Ng5', 'Rb1+,Kh2,Be5+,g3,Bxd6', 'https://lichess.org/training/w2ZTa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w33p9', 'Classical', 'alitoprak', 1667, 'shugaev', 1638, 'e4,c5,Nf3,d6,c3,Nf6,Bd3,e6,Bc2,d5,e5,Nfd7,d4,Nc6,Ba4,a6,Bxc6,bxc6,O-O,Be7,Re1,O-O,Bf4,Rb8,Qc2,cxd4,cxd4,Qb6,Re2,c5,Be3,cxd4,Bxd4,Bc5,Bxc5,Nxc5,Nc3,Rd8,Rd1,Qxb2', 'Qxb2,Rxb2,Rxb2', 'https://lichess.org/training/w33p9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w35oN', 'Rapid', 'islamyousif', 1678, 'DamageControl', 1823, 'e4,e5,Nf3,d6,Bc4,h6,c3,Nf6,Qe2,Be7,d4,exd4,cxd4,O-O,h3,Nc6,O-O,Re8,Nc3,Nh7,Nh2,Ng5,Be3,Bf6,e5,dxe5,dxe5,Nxe5,Bb3,Nc6,Qh5,Be6,Bc2,Bxc3,bxc3,Qf6,Rfe1,Bf5,Bxg5,hxg5,Rxe8+,Rxe8,Ng4,Qg6,Qxg6,Bxg6,Bxg6,fxg6,Rb1,b6,Rb5,Re2,Rxg5,Rxa2,Rxg6,Ne7,Re6,Kf8,Ne3,Ra3,c4,a5,Re4,Rc3,Rd4,Ke8,Kf1,a4,Ke2,a3,Rd1,a2,Ra1,Ra3,Nc2,Ra4,Kd3,Nc6,Kc3,Ne5,Nb4,Ra3+,Kd4', 'c5+,Kxe5,cxb4', 'https://lichess.org/training/w35oN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W37ej', 'Blitz', 'CompL1Cated25', 1552, 'Alex2_000', 1554, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,O-O,b5,Bb3,Nf6,d3,h6,a4,d6,axb5,Nb4,bxa6,Rxa6,Rxa6,Nxa6,Bc4,Nb4,Nc3,Bg4,h3,Bh5,Be3,O-O,Bxc5,dxc5,Nd5,Nc6,Nxf6+,Qxf6,Bd5,Nd4,Kh2,Nxf3+,gxf3,Bxf3,Qd2,Qh4,Rg1,Rd8,Rg3,Bh5,Qxh6,g6,Qg5,Qxg5,Rxg5,Rd6,c4,Rf6,Kg3,Rf3+,Kh4,Rf4+,Kg3,Rf3+,Kh4,Rxf2,Rxh5,gxh5,Kxh5,Rf3,h4,Rxd3,Kg5,Rb3,Kf6,Rxb2,Bxf7+,Kf8,Bd5,Rb6+,Kxe5,Rh6,h5,Rxh5+,Ke6,Rh7,Kf6,Ke8,Kg6,Re7,Kf6,Kd8,Kg6,Kd7,Kf5,Kd6,Kf6,c6,Bxc6,Rc7,Bd5,Rd7', 'e5+,Kc7,e6,Rd8,e7', 'https://lichess.org/training/W37ej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W3b5D', 'Rapid', 'malisha', 1951, 'sparc', 2006, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bb5,Bc5,d4,exd4,Nxd4,O-O,Bxc6,bxc6,c3,Qh4,Be3,Bb6,Nf3,Qf6,Nbd2,Bxe3,Rxe3,Re8,Nxe4,dxe4,Nd4,c5,Nb5,Qc6,Na3,Ba6,Qh5,Rad8,h3,Rd5,Qg4,Rd2,b3,Qf6,Qg3,h6,Nc4,Rd5,Rae1,Rg5,Qxc7,Bxc4,bxc4,Rf5,Rf1,Qg5,Rg3,Qf6,Qxa7', 'e3,Rxe3,Rxe3,Qb8+,Kh7', 'https://lichess.org/training/W3b5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w3CQO', 'Blitz', 'ecco-nov', 2114, 'Handa_Sei', 2089, 'c4,d5,cxd5,Qxd5,Nc3,Qa5,d4,Nc6,Bd2,Bg4,d5,Nd4,f3,Bh5,e4,e6,Be3,Bc5,Bxd4,Bxd4,Qxd4,Ne7,dxe6,Rd8,Qxg7,Rg8,exf7+,Bxf7,Qxh7,Qb4,Ne2,Qxb2,Rb1,Qd2+,Kf2,Ng6,Rd1,Qg5,Rxd8+,Kxd8,h4,Qc5+,Ke1,Qc4,Nf4,Qxc3+,Kf2,Nxf4,Qxf7,Qd2+,Kg1', 'Rxg2+,Bxg2,Qxg2#', 'https://lichess.org/training/w3CQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w3d3w', 'Rapid', 'NM Northridgehawk', 2143, 'ab4gm', 1605, 'e4,e5,Nf3,Nc6,g3,Bc5,Bg2,Nf6,d3,O-O,O-O,d6,Nbd2,Re8,c3,Bb6,a4,a5,Nc4,Bg4,Nxb6,cxb6,h3,Be6,Be3,d5,Qe2,d4,Bd2,dxc3,bxc3,Qd7,Be3,Bxh3,Bxb6,Bxg2,Kxg2,Qg4,Rh1,Nh5,Qe3,Nf6,Rh4,Qg6,Rah1,h6,Qe2,Ng4,Ng1,Nf6,Be3,Rac8,Kf1,Kf8,R1h3,Ne7,Bd2,Red8,f4,exf4,gxf4,Nd7,f5,Qb6,Rg3,Qb1+,Kg2,Ne5,f6,N7g6,fxg7+,Kxg7,d4,Nc4,Bxh6+,Kg8,Rhg4,Qb2,Kf3,Qxc3+,Kg2,Qb2,Kh3,Qxe2,Nxe2,Nd6,Rb3,Kh7,Bg5,Rh8,Bf6,Rhg8,Kg2,Nh8', 'Rh3#', 'https://lichess.org/training/w3d3w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w3dkV', 'Classical', 'Cristiano747', 1741, 'Mystifying', 1739, 'e4,c5,f4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Nf3,Qe4+,Be2,Qxf4,d3,Qg4,O-O,e6,Ne5,Qd4+,Kh1,Qxe5,Bf4,Qxb2,Rb1,Qxa2,Bh5,g6,Bf3,Bg7,Be4,O-O,Qf3,e5,Bg5,f6', 'Bd5+,Be6,Bxa2', 'https://lichess.org/training/w3dkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W3FeN', 'Blitz', 'Mike2017', 1913, 'Bhiry', 1948, 'e4,e6,Nf3,c6,d4,d6,c4,Nf6,Nc3,d5,e5,Nfd7,c5,b6,b4,a5,cxb6,axb4,Ne2,Qxb6,Ng3,c5,Be3,cxd4,Bxd4,Bc5,Be2,Bxd4,Nxd4,Nxe5,O-O,Ba6,Bxa6,Nxa6,a4,bxa3,Qa4+,Kf8,Qxa3+,Kg8,Rfb1,Qa7,Nge2,Nc4,Qg3,Qd7,Nf3,g6,Ne5,Qd6,f4,Nxe5,fxe5,Qe7,Nd4,Kg7,Nc6,Qc5+,Kh1,Qxc6,Qg5,Rhc8,Qf6+,Kg8,h4,Nc5,h5,Ne4,Qh4,Ra2,hxg6,Rxa1', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/W3FeN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w3ggb', 'Rapid', 'walteramundo', 1695, 'Oy2834', 1852, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Qe7,Nxc6,dxc6,Bd3,Be6,Bg5,h6,Bh4,g5,Bg3,O-O-O,h3,Bg7,f4,gxf4,Bxf4,Rhe8,Qf3,Bd5,Nxd5,Nxd5,O-O-O,Nxf4,Qxf4,Qb4', 'Qg4+,f5,Qxg7', 'https://lichess.org/training/w3ggb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w3Kkn', 'Blitz', 'CM Bibekthing', 2446, 'FM Palachev_Petr', 2566, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Nf3,Bf5,Bd3,Bg6,Bxg6,hxg6,Qe2+,Qe7,Qxe7+,Kxe7,O-O,b5,Re1+,Kd8,h3,a5,Nd2,a4,Ne4,Kc7,Nxd6,Kxd6,Bf4+,Kd7,Bxb8,Raxb8,b3,axb3,axb3,Ra8,Kf1,f5,Ke2,Rhe8+,Kd2,Rxe1,Rxa8,Rg1,g3,Rh1,h4,f4,gxf4,Rxh4,Ke3,Rh3+,f3,Rh2,Ra7+,Ke6,Rc7,Kd6,Rxf7,Rc2,Kd3,Rf2,c4,bxc4+,bxc4,Rxf3+,Ke4,Rf1,Rxg7,Re1+,Kf3,Rf1+,Kg4,Rg1+,Kh4,Ke6,Rc7,Kd6,Rc8,Kd7,Rg8,Ke6,Rf8,Rd1,Kg5,Rxd4,Kxg6,Rxc4,f5+,Ke7,Rf7+,Ke8,Ra7,Rg4+,Kf6,Re4,Ra8+,Kd7,Kg7,c5,f6,c4,f7,Rg4+,Kf6,Rf4+,Kg6,Kd6,Ra6+,Kd5', 'Rf6,Rxf6+,Kxf6', 'https://lichess.org/training/w3Kkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w3LUu', 'Blitz', 'Kifliganteng', 2164, 'Martin_Pescador2020', 2051, 'e4,e6,d4,d5,Nc3,Nf6,exd5,exd5,Nf3,Bd6,Be2,a6,O-O,O-O,Bg5,c6,Re1,Be6,Ne5,h6,Bh4,Nbd7,Bd3,Qc7,h3,Nxe5,dxe5,Bxe5,f4,Bxf4,Bxf6,gxf6,Qh5,Rae8,Re2,Bc8,Rf1,Re3,Rxe3,Bxe3+,Kh1,Qe5,Bf5,Bxf5,Rxf5,Qd4,Ne2,Qd1+,Kh2,Re8,Rxf6,Bg1+,Kg3,Qxe2', 'Qxf7+,Kh8,Rxh6#', 'https://lichess.org/training/w3LUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W3MRA', 'Classical', 'RAVIPRATAPMISHRA', 1600, 'Pelt', 1752, 'e4,Nf6,Nc3,d5,e5,d4,exf6,dxc3,fxg7,cxd2+,Qxd2,Qxd2+,Bxd2,Bxg7,O-O-O,Be6,Kb1,O-O,f4,Rd8,Bd3,Nc6,h3,a6,g4,Bd5,Rh2,e6,f5,Ne5,Bc3,exf5,Bxf5,Bxa2+,Kxa2,Rxd1,Ne2,Rad8,Nf4,Ng6,Bxg6,fxg6,Bxg7,Kxg7,Ne6+,Kf7,Nxd8+,Rxd8,Kb3,Re8,Kb4,Re5,b3,b6,c4,a5+,Ka4,c6,b4,axb4,Kxb4,Kf6,Rd2,Kg5,Rd6,b5,c5,Re4+,Ka5,Ra4+,Kb6,b4,Rxc6,b3,Kc7,b2,Rb6,Ra7+,Kd6', 'Ra6,Rxa6,b1=Q', 'https://lichess.org/training/W3MRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W3ogB', 'Rapid', 'lj04', 1780, 'stakys', 1856, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,O-O,e5,Ne8,Nf3,d6,Be2,dxe5,Nxe5,Nd7,f4,b6,O-O,Bb7,Bf3,Bxf3,Qxf3,e6,Nxd7,Bxd4+,Kh1,Nd6,Nxf8,Kxf8,Rd1,Nf5,g4,Nh4,Qe4,c5,Ne2,f5,Qxe6,fxg4,Nxd4,cxd4,Qxg4,Qe7,Bd2,h5,Qg5', 'Qe4+,Kg1,Nf3+,Kf2,Nxg5', 'https://lichess.org/training/W3ogB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W3si2', 'Blitz', 'daaleksandrov', 2198, 'WIM ajam73', 2047, 'e4,d6,d4,Nf6,Nc3,e5,Nf3,Nbd7,Bc4,Be7,O-O,O-O,Re1,h6,a4,c6,h3,Re8,Be3,Qc7,Qb1,Nf8,Qa2,Be6,d5,cxd5,exd5,Bf5,Nb5,Qc8,Nxa7,Qc7,Nb5,Qc8,Qb3,Ng6,Kh2,Nh5,g4,Bxg4,hxg4,Qxg4,Be2,Nhf4,Bxf4,Nxf4,Ng1', 'Qg2#', 'https://lichess.org/training/W3si2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w3wBh', 'Blitz', 'GREATWATERS', 1685, 'deanjulio', 1651, 'e4,e5,Nc3,Nc6,Nf3,f6,Bb5,Bb4,Bxc6,Bxc3,dxc3,bxc6,Be3,Ne7,Qd2,O-O,O-O-O,d5,h4,Be6,Kb1,f5,exf5,Bxf5,Nxe5,Be6,h5,d4,cxd4,Qd5,b3,Rab8,f4,Rb6,Qd3,Qxg2,d5,cxd5,Bxb6,Rb8,Bxc7,Rb7,Bd6,Bf5,Qa6', 'Qxc2+,Ka1,Qc3#', 'https://lichess.org/training/w3wBh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w3XIc', 'Blitz', 'giu_zava', 1547, 'valek1977', 1548, 'e4,e5,f4,Nc6,Nf3,d6,Be2,Nf6,Nc3,Be6,d4,exf4,d5,Bg4,dxc6,bxc6,Bxf4,Be7,h3,Bh5,g4,Bg6,Bd3,Rb8,h4,Nxg4,h5,Bxh5,Rxh5,g6,Rh1,Qd7,Nh2,Bh4+,Kf1,Ne3+,Bxe3,Qh3+,Ke2', 'Qg2+,Bf2,Qxf2#', 'https://lichess.org/training/w3XIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w3YF8', 'Blitz', 'NM ZugZwangTR', 2411, 'Vak2019', 2372, 'd4,g6,e4,Bg7,Nc3,d6,Be3,a6,Qd2,b5,O-O-O,Nd7,h4,h5,Nh3,Nb6,Kb1,b4,Ne2,Nc4,Qxb4,Nxe3,fxe3,Nf6,Ng5,O-O,Nf4,Bg4,Be2,Rb8,Qc4,Bxe2,Nxe2,Rb6,Nf4,Qb8,b3,Rb4,Qc3,a5,e5,Ng4,Nd5,dxe5,Nxb4,axb4,Qd2,exd4,exd4,c5,Nf3,cxd4,Nxd4,Rd8,Nc6,Rxd2,Nxb8,Rxg2,Nc6,Bc3,Nxe7+,Kg7,Rd7,Ne3,Nd5,Nxc2,Nxc3,Na3+,Kc1,bxc3,Rc7,Rxa2,Rh3', 'Ra1#', 'https://lichess.org/training/w3YF8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W3zfY', 'Rapid', 'gravizapa78', 1981, 'ham02', 1978, 'b3,c5,Bb2,d6,d3,Nf6,Nf3,e6,Nbd2,Be7,g3,O-O,Bg2,Nc6,O-O,Qc7,Re1,a6,a3,b5,Qc1,Bb7,e3,d5,a4,b4,e4,dxe4,Nxe4,Nxe4,Rxe4,Nd4,Re3,Bf6,Nxd4,cxd4,Re2,Bxg2,Kxg2,Qc6+,f3,h6,Qe1,a5,Bc1,Rac8,h4,Rfe8,Kf2,Qd6,f4,Rc5,Bb2,Rec8,Rc1,g5,hxg5,hxg5,Qd2,g4,Re4,Qc6,Ke1,Rh5,Qe2,Rh2,Qxg4+,Kf8,Kd1,Rh1+,Re1,Rh2,Re2,Qh1+,Kd2,Rxe2+,Qxe2,Qd5,Qf2,e5,Re1,Qc5,Kd1,exf4,gxf4,Qh5+,Kd2', 'Bh4,Qg2,Bxe1+', 'https://lichess.org/training/W3zfY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w43aA', 'Blitz', 'Old-Veteran', 2722, 'GM BIZOO', 2715, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,e6,Nc3,Nxc3,bxc3,Qc7,Bd2,b6,Nf3,Bb7,Bd3,d6,O-O,Nd7,Ng5,dxe5,Qh5,g6,Qh3,Be7,Rfe1,e4,Nxf7,Kxf7,Bxe4,Nf8', 'Qf3+,Kg7,Bxb7', 'https://lichess.org/training/w43aA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w46H8', 'Rapid', 'Ricardas_55', 2033, 'ElysiumKing', 1924, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,Ne5,Qh4+,Kf1,Nh6,d4,d6,Nd3,f3,gxf3,Qh3+,Ke1,gxf3,Bxh6,Bxh6,Nf2,Qg2,Bf1,Qg5,Qxf3,Qe3+,Qxe3,Bxe3,c3,f5,Nd2,fxe4,Ndxe4,Bf5,Bb5+,Nd7,Nf6+,Ke7', 'Nd5+,Kd8,Nxe3', 'https://lichess.org/training/w46H8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w4BXl', 'Rapid', 'alexandr01', 2094, 'bluewhale2004', 1670, 'd4,Nf6,Nf3,e6,c4,d5,Nc3,b6,Bf4,Bd6,Bg3,Bb7,e3,Qe7,Bd3,Nbd7,Rc1,c5,cxd5,Nxd5,dxc5,Nxc5,Bxd6,Qxd6,Nb5,Nxd3+,Qxd3,Qb4+,Nd2,O-O,Qb3,Qg4,Rg1,Rfc8,Rc4,Qh5,h3,Ba6,Qa4,Nxe3,fxe3,Rxc4,Qxa6,Rc1+,Kf2,Qf5+,Nf3,Qc2+,Kg3,Qg6+,Kh2,Rxg1,Nxg1,Rd8,Nf3,h6,Qxa7,Qf5,Qxb6,Rc8,Nbd4,Qd5,a4,e5,Qb5,Rc5,Qe8+,Kh7,Nf5,e4,N3d4,Qb7,Ne7,Qc7+,g3,Rc2+,Nxc2,Qxc2+,Kg1,Qd1+,Kf2,Qd2+,Kf1,Qc1+,Ke2,Qxb2+,Kd1,Qb1+,Kd2,Qb2+,Ke1,Qc1+,Kf2,Qd2+,Kf1,Qd1+,Kf2,Qd2+,Kg1,Qe1+,Kh2,Qf2+,Kh1,Qf3+,Kg1,Qxg3+,Kf1,Qxh3+,Ke1,Qxe3+,Kd1,Qd3+,Kc1,Qc3+,Kd1,Qd3+,Kc1,Qf1+,Kc2,Qd3+,Kb2,Qd2+,Kb3,Qd3+,Kb4,Qd4+,Kb5,Qe5+,Kc6,Qe6+,Kc7,Qe5+,Kd7,Qe6+,Kc7,Qe5+,Kc8,Qe6+,Kd8,Qd6+,Kc8,Qe6+,Kb7,Qb3+,Kc7,Qc4+,Kd7,Qe6+,Kd8,Qd6+,Qd7', 'Qxd7+,Kxd7,e3', 'https://lichess.org/training/w4BXl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W4CD1', 'Rapid', 'FernandoMarechal', 1862, 'THEWOLF17', 1964, 'd4,d5,f3,Nf6,Bg5,e6,Qd3,b6,e4,dxe4,Qb5+,Bd7,Qe5,exf3,Bxf6,gxf6,Qe4,Bc6,Bb5,Qd5,Qxd5,exd5,Bxc6+,Nxc6,Nxf3,Bd6,O-O,O-O-O,Nc3,Ne7,Nb5,Kb7,Rfe1,Ng6,Nxd6+,Rxd6,c3,Re6,Rf1,Nf4,Rab1,Rg8,g3,Re2,Rfe1,Nh3+,Kh1,Rge8,Rxe2,Rxe2,a4,Nf2+,Kg1,Nd3,b3,Kc6,Rd1,Nb2,Rc1,Kd6,Kf1,Rf2+,Kxf2,Nd3+,Ke3,Nxc1,b4,c5,Kd2,Na2,b5,cxd4,Nxd4,Kc5,Kc2,Kc4,Ne2,d4,cxd4,Nb4+,Kd2,Nd5,Kc2,Kb4,Nf4,Nxf4,gxf4,Kc4,d5,Kxd5,Kd3,Kc5,Kc3,Kd5,Kd3,Ke6,Ke4,Kd6', 'Kf5,Kd5,Kxf6', 'https://lichess.org/training/W4CD1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W4DRH', 'Rapid', 'meganav', 1931, 'Cosa1', 2061, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,d6,d4,exd4,cxd4,Bb6,d5,Ne5,Nxe5,dxe5,Bg5,h6,Bh4,Qd6,Nc3,O-O,a3,Bg4,Qc2,Bh5,Nb5,Qd8,Be2,Bg6,Bd3,a6,Nc3,Qd6,Kh1,Rac8,Qe2,c6,Rad1,cxd5,Bxf6,Qxf6,Nxd5,Qe6,f4,exf4,Nxf4,Qc6,Nxg6,Qxg6,e5,Qe6,Qe4,g6,Qxb7,Bc7,Rde1,Rfd8,Qf3,Rd7,Be4,Rcd8,Qh3,Qxh3,gxh3,Rd2,Bb7,Rxb2,Bxa6', 'Rdd2,Re2,Rxe2,Bxe2,Rxe2', 'https://lichess.org/training/W4DRH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W4E18', 'Bullet', 'VicosmicoS', 2481, 'IM mapungubve', 2482, 'e4,e5,Nc3,Nf6,Bc4,Nc6,d3,Bc5,h3,h6,Nge2,O-O,O-O,d6,Kh2,Be6,Bb3,a5,f4,exf4,Nxf4,Bxb3,axb3,Ne7,Qe1,Bb4,Bd2,c6,Rd1,d5,Qg3,dxe4,dxe4,Qb8,Kh1,Ng6,Rf3,Bxc3,Bxc3,Nxe4,Qg4,Nxf4', 'Qxg7#', 'https://lichess.org/training/W4E18');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w4eHe', 'Blitz', 'sreegora', 1705, 'S96', 1767, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,g6,Bg5,Bg7,Nf3,O-O,Bd3,Bg4,c5,e6,h4,Nbd7,Qd2,Bxf3,gxf3,e5,h5,exd4,Nxd5,Qe8+,Kd1,Nxd5,hxg6,fxg6,Bc4,Nf6,Bxf6,Rxf6,Bxd5+,Kh8,Kc2,Qa4+,Bb3,Qc6', 'Rxh7+,Kxh7,Rh1+,Bh6,Qxh6#', 'https://lichess.org/training/w4eHe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w4GKZ', 'Blitz', 'Bartok97', 2123, 'silvestre63', 1679, 'Nf3,c5,d4,cxd4,Nxd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,Be7,e3,Nc6,Bb5,Bd7,Qa4,h6,Bxf6,Bxf6,Nxc6,Bxc3+,bxc3,Bxc6,Bxc6+,bxc6,Qxc6+,Kf8,O-O,Rc8,Qa6,Rxc3,Qxa7,g5,a4,Kg7,Qd4+,Qf6,Qxd5,Rd8,Qb5,Rc2,a5,Rdd2,a6,Rxf2,Rxf2', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/w4GKZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W4HGz', 'Rapid', 'repla', 1839, 'Hiwax', 1735, 'e4,e5,Nc3,Nc6,Nf3,Nf6,Be2,d6,d3,h6,O-O,Be7,Bd2,Nd4,Nxd4,exd4,Nd5,Nxd5,exd5,Bg5,Re1,O-O,f4,Bh4,Rf1,Bf5,Bg4,Qd7,Bxf5,Qxf5,Qf3,Bf6,Rae1,Rae8,Re4,Qxd5', 'Rxe8,Qxf3,Rxf8+', 'https://lichess.org/training/W4HGz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w4K9b', 'Rapid', 'LALIPOP2', 1925, 'Hamaneoual07', 1838, 'd4,e6,Nf3,d5,c4,dxc4,Nc3,Bd7,e4,b5,Qc2,Bb4,a3,Bxc3+,bxc3,c6,a4,Qa5,Bb2,Nf6,Be2,O-O,Ne5,Bc8,O-O,Qc7,Ra2,Nbd7,Nf3,Bb7,Rfa1,a6,e5,Ne8,Nd2,f6,Bf3,fxe5,axb5,cxb5,Bxb7,Qxb7,dxe5,Nxe5,Qe4,Qb6,Qxe5', 'Qxf2+,Kh1,Qxd2', 'https://lichess.org/training/w4K9b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w4lDN', 'Rapid', 'GraafvandenBosch', 2288, 'JR-always-love-u0408', 2119, 'Nf3,Nc6,d4,d5,c4,e6,Nc3,Nf6,Bg5,Bb4,e3,O-O,Bd3,dxc4,Bxc4,Be7,O-O,Nd5,Bxd5,exd5,Bf4,a6,Qb3,Nb4,Rad1,Bf5,a3', 'Bc2,Qxc2,Nxc2', 'https://lichess.org/training/w4lDN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W4Mj0', 'Rapid', 'AGNIM_DUTTA', 1906, 'karipekka', 1859, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Bd7,O-O,a5,Re1,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nc3,Qb6,Bc2,Ne7,Rb1,Nc6,Na4,Qc7,Bf4,Be7,Nc3,Nb4,Bb3,b5,a3,Na6,Qg4,g6,Rbc1,Qb7,Ne2,Nc5,Bc2,Rc8,Bg5,Bxg5,Qxg5,Kf8,Qf6,Kg8,Ng3,Be8,Nh5,gxh5,Re3,Nd7', 'Rg3+,Kf8,Qxh8+', 'https://lichess.org/training/W4Mj0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w4pW7', 'Blitz', 'cabaquerom', 2075, 'balenpro', 2084, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,d3,h6,O-O,O-O,a3,Re8,b4,Bf8,Bd2,d6,Nd5,Bd7,Nxf6+,Qxf6,c3,Ne7,Be3,c6,d4,b5,Bb3,Rad8,a4,a6,axb5,axb5,Ra7,Qg6,Qe2,Qxe4,Re1,Qf5,dxe5,dxe5,Bc5,Ng6,Bxf8,Kxf8,Qe3,f6,Qc5+,Re7,Rd1,Ke8,c4,bxc4,Bxc4,Nf4,b5,Qg4,Bf1,Ne6,Qb6,cxb5,Bxb5,e4,Bxd7+,Rexd7,Raxd7,Rxd7,Qb8+,Ke7,Rxd7+,Kxd7,Qb5+,Ke7,Qb4+,Kf7,Qb7+,Kg6,Ne1,Qd1,Kf1,Ng5,Qe7,Qa4,h4,Qb5+,Kg1,Nf7', 'Qxe4+,f5,Qe6+,Kh7,Qxf7', 'https://lichess.org/training/w4pW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w4tP6', 'Blitz', 'arthur57', 1824, 'tellur', 1738, 'e4,c6,d4,d5,e5,Bf5,h4,e6,g4,Bxg4,Qxg4,Nh6,Bxh6,gxh6,Nc3,Nd7,O-O-O,a5,Bd3,b5,f4,b4,Na4,b3,cxb3,c5,dxc5,Bxc5,Bb5,Be3+,Kb1,Rc8,Rh3,Qc7,Bxd7+,Kxd7,Rxe3', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/w4tP6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W4uZz', 'Rapid', 'DanielAS', 1706, 'MaratAshirov', 1665, 'd4,e6,e3,Nf6,Nf3,b6,a3,Bb7,h3,Ne4,Bd3,f5,Nc3,Be7,Bd2,O-O,O-O,c5,dxc5,bxc5,Qe2,d5,Bxe4,fxe4,Nh2,Nc6,Rad1,Bd6,f3,Qc7,g4,Bxh2+,Qxh2,Ne5,fxe4,Nf3+,Rxf3,Qxh2+,Kxh2,Rxf3,exd5,exd5,Nb5,Raf8,Be1,Rxe3,Nd6,Bc6,Nf5,Re2+,Kg1,Rfe8,Bh4,d4,Ne7+,Kf7,Nxc6,Rxc2,Rf1+,Kg6,Ne7+,Kh6,Re1,Rf8,Re6+,g6,g5+,Kh5,Re4,Re8,Bf2,Kxg5,Bh4+,Kh5,Bg3,d3,Re5+,Kh6,Bf4+,Kg7,Nf5+,Kf8', 'Bh6+,Kf7,Nd6+,Kf6,Rxe8', 'https://lichess.org/training/W4uZz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W4YMW', 'Rapid', 'ishmael_schtinky', 1857, 'Fiat-Multipla', 1837, 'e4,e6,Nc3,c5,Bc4,a6,a3,Nc6,Nf3,Nf6,d3,d5,exd5,exd5,Qe2+,Be7,Ba2,O-O,O-O,Be6,Ng5,Bg4,f3,Bh5,Bf4,Nd4,Qf2,Re8,Be5,Nc6,Rfe1,Qd7,Re2,Nxe5,Rxe5,d4,Nce4,Nxe4,Nxe4,Bd6,Nxc5,Qc7,Rxe8+,Rxe8,Ne4,Bxh2+,Kf1,b5,Qh4,Bg6,Re1,Be5,Nf2,h6,Ng4,Kh7,Nxe5,Rxe5,Qg3', 'Rxe1+,Qxe1,Qxc2', 'https://lichess.org/training/W4YMW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W4zYG', 'Rapid', 'Paul_Morphy_88', 1758, 'Fafito', 1849, 'e4,c5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,b3,e5,Bb2,Be6,c3,f5,d3,fxe4,dxe4,Nf6,Qc2,Be7,O-O,O-O,h3,Qd7,Rd1,Rad8,c4,Qc8,Nc3,Nh5,g3,Bxh3,Ne2,Bg4,Nh4,Bxh4,gxh4,Qe6,Ng3,Bxd1,Rxd1,Qg4,Rd3,Nf4,Rf3,Qh3,Rxf4,exf4,Qc3,Rf7,Nf5,Qg4+,Kf1,f3', 'Nh6+,Kf8,Nxg4', 'https://lichess.org/training/W4zYG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W57uL', 'Rapid', 'ybatu', 1927, 'SantiagoYu', 1628, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,e6,Nf3,Bd6,Nc3,Nbd7,e4,e5,Ng5,O-O,O-O,h6,Nf3,b6,Nb5,Ba6', 'Nxd6,cxd6,Bxa6', 'https://lichess.org/training/W57uL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W587q', 'Rapid', 'Dobaha', 1814, 'dramroop', 1787, 'b3,e5,Bb2,d6,e3,Nf6,c4,Be7,h3,Be6,Nc3,Nbd7,Qf3,O-O,Qxb7,a5,Na4,Rb8,Qa6,Ne4,Qxa5,Qc8,Bd3,Ndc5,Nxc5,Nxc5,Bc2,Ra8,Qc3,Bf6,Nf3,e4,Nd4,Bd7,g4,Ne6,h4,g6,Bxe4,Ra6,h5,c5,hxg6,fxg6,Bd5,cxd4,exd4,Kg7,Qf3,Ng5,Qg2,Qe8+,Kd1,Ra7,Re1,Qc8,f4,Bxg4+,Kc2,Bf5+,d3,Nf7,Qh2,Qd8,Rh1,Rh8,a4,Qe7,Rae1,Qd8,Bxf7,Rxf7,Qh6+,Kg8,Qh2,Re7,Re2,Rxe2+,Qxe2,Qe7', 'Qxe7,Bxe7,d5', 'https://lichess.org/training/W587q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W593B', 'Rapid', 'duohdah', 1986, 'Aleksandr80', 2017, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,c5,Nf3,cxd4,Nxd4,Nc6,cxd5,Nxd5,Nxc6,bxc6,Nxd5,Qxd5,a3,Ba6,Qc2,Rd8,e4,Qa5+,b4', 'Bxb4+,axb4,Qxa1+', 'https://lichess.org/training/W593B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5BZ9', 'Blitz', 'doc-holliday', 1563, 'GoldenKnight_ccf', 1527, 'e4,e6,Nf3,d5,exd5,exd5,d4,c5,dxc5,Bxc5,Nc3,Nf6,Bg5,Nc6,Bb5,Bd7,Qd3,O-O,O-O-O,Be6,Bxc6,bxc6,Rhe1,Bxf2,Rf1,Bb6,Ne5,Rc8,Bxf6,gxf6,Qg3+,Kh8,Ng4,Rg8,Qh4,Rxg4,Qh6,Rg6,Qh4,Qe7,Rf3,Bg4,Rdd3,Bxf3,Rxf3,Rcg8,b3,Ba5,Nd1,Bd8,Ne3,d4,Nf5,Qe6', 'Qxh7+,Kxh7,Rh3+,Rh6,Rxh6#', 'https://lichess.org/training/W5BZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w5dbA', 'Rapid', 'tmano', 1821, 'Loverboy_in', 1808, 'e4,c5,c3,e6,d4,cxd4,cxd4,d6,Nf3,Nf6,Nc3,Be7,Bc4,O-O,O-O,Nc6,Bb3,b6,Be3,Bb7,Bc2,Rb8,b3,a6,Rc1,Qe8,e5,dxe5,dxe5,Nd5,Nxd5,exd5,Qd3,g6,Bh6,Nb4,Qe2,Nxc2,Rxc2,Rc8,Rfc1,Qd7,Bxf8,Bxf8,h3,Bc6,Qxa6,Bb7,Qxb6,Rxc2,Rxc2,d4,Qxd4,Qe6,Ng5,Qf5,Qh4,h6,Rc7,hxg5,Qc4,Be4,g4', 'Qf3,Qxf7+,Qxf7,Rxf7,Kxf7', 'https://lichess.org/training/w5dbA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w5gr9', 'Blitz', 'Konato', 1770, 'bremstra', 1760, 'd4,d5,c4,dxc4,e3,e6,Bxc4,Nf6,Nc3,Bd6,Nf3,O-O,O-O,Nbd7,b3,b6,Bb2,Bb7,Be2,Rc8,Rc1,Re8,Re1,c5,dxc5,Nxc5,Bb5,Re7,Qe2,a6,Bd3,Nxd3,Qxd3,Bxh2+,Kxh2,Qxd3,Red1,Ng4+,Kg3,Qg6,Nh4,Qg5,Ne4,Rxc1', 'Rd8+,Re8,Rxe8#', 'https://lichess.org/training/w5gr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5HV5', 'Rapid', 'TRiddle', 1614, 'masterark', 1630, 'e4,e5,f4,Nc6,Nf3,d6,fxe5,dxe5,Bc4,Bg4,O-O,Nd4,Bxf7+,Ke7,Bd5,c6,Bb3,Bxf3,Rxf3,Nxf3+,Qxf3,Nf6,Nc3,h6,d3,a5,Be3,b5,a3,Qd6,Qf2,Qc7,Rd1,Rd8,d4,b4,dxe5,Rxd1+,Nxd1,Qxe5,c3,Kd8,cxb4,axb4,axb4,Kc7', 'Bf4,Qxf4,Qxf4+', 'https://lichess.org/training/W5HV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5IL8', 'Rapid', 'ayushi1', 1724, 'dstrrr', 1668, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,g6,Bb5+,Bd7,O-O,a6,Ba4,b5,Bb3,Bg7,a3,O-O,Qf3,Nc6,Bd5,Nxd4,Qd3,Nc6,Bxc6,Bxc6,Bg5,Rc8,f4,Qb6+,Kh1,Qb7,Rae1,e6,Rf3,d5,e5,Ng4,Nd1,d4,Rg3,Bxg2+,Rxg2,Nh6,Nf2,Nf5,Kg1,Ne3,Rg3,Rxc2,Ne4,Rxb2,Rh3,Nf5,Bf6,Bh6,Rxh6,Nxh6,Qh3,Nf5,Bg5,Rb1', 'Nf6+,Kg7,Qxh7#', 'https://lichess.org/training/W5IL8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5JGc', 'Blitz', 'NM FalzeHope', 2364, 'kuranyi', 1988, 'd4,d5,e3,Nf6,Bd3,Bg4,Ne2,c5,c3,e6,f3,Bf5,Ng3,Bxd3,Qxd3,Nc6,O-O,e5,Kh1,Be7,Nd2,O-O,e4,dxe4,Ndxe4,Nxe4,Qxe4,exd4,c4,Bf6,Qg4,Qc8,Nf5,Ne5,Qf4,Nd3,Qg4,Nxc1,Raxc1,Qe6,Rce1,Qd7', 'Nh6+,Kh8,Qxd7', 'https://lichess.org/training/W5JGc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5Jhn', 'Rapid', 'mkrentgen', 1690, 'teemujvi2', 1653, 'e4,e5,d4,exd4,c3,Nf6,e5,Qe7,cxd4,d6,Nf3,dxe5,dxe5,Nfd7,Be2,Nxe5,Nxe5,Qxe5,O-O,Bd6,Bb5+,Bd7', 'Re1,O-O,Rxe5', 'https://lichess.org/training/W5Jhn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5JW8', 'Classical', 'niklasj', 1762, 'Kairob1234', 1756, 'd4,d5,e3,Nf6,Bd3,h6,f4,Nc6,c3,Bg4,Nf3,e6,Bb5,a6,Bd3,Be7,O-O,O-O,Nbd2,Ne8,Qe1,Bh5,Ne5,Nxe5,fxe5,f6,exf6,Nxf6,e4,dxe4,Nxe4,Nxe4,Qxe4,Rxf1+,Kxf1,Qf8+,Kg1,g6,Qxe6+,Kg7,g4,Bh4,Be3', 'Re8,Qd7+,Re7', 'https://lichess.org/training/W5JW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5k65', 'Rapid', 'A60669833Fernando', 1813, 'A61320451FERDINAND', 1626, 'e4,e5,Bc4,Nf6,d3,Nc6,Nc3,h6,g4,d6,g5,hxg5,Bxg5,Be7,h4,Be6,Qe2,Bxc4,dxc4,Nd4,Qd1,Qd7,Nf3,Nxf3+,Qxf3,O-O-O,O-O-O,Qc6,Bxf6,Bxf6,Qe3,Rxh4', 'Rxh4,Bxh4,Qh3+,f5,Qxh4', 'https://lichess.org/training/W5k65');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w5le1', 'Rapid', 'magnus0223', 2181, 'yiamav', 2188, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qa5,Nxe4,Be6,Neg5,O-O-O,Nxe6,fxe6,Rxe6,Qf5,Qe2,h6,Nh4,d3,cxd3,Qxd3,Qxd3,Rxd3,Be3,Be7,Ng6,Re8,Bc5,Kd7,Rae1,Bxc5,Rxe8,Rd2,R8e2,Rd6,Ne5+,Nxe5,Rxe5,Bd4,R5e2,c5,Kf1,b5,Re7+,Kc6,Rxa7,Bxb2,Ra6+,Kd7,Rxd6+,Kxd6,Rb1,Be5,Rxb5,Kd5,a4,Kc4,Rb7,Kd3,Re7,Bd4,a5,c4,a6,c3,Rc7,c2,Ke1', 'Bc3+,Rxc3+,Kxc3', 'https://lichess.org/training/w5le1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5ojJ', 'Rapid', 'zenmate666', 1655, 'zebererlajos', 1624, 'd4,b6,d5,Bb7,e4,c6,c4,cxd5,cxd5,Nf6,Nc3,e6,f4,exd5,exd5,Bb4,Bd2,Bxc3,Bxc3,Bxd5', 'Bxf6,Qxf6,Qxd5', 'https://lichess.org/training/W5ojJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5qcw', 'Classical', 'eduvorco97', 1609, 'AXEL29200', 1657, 'd4,d5,c4,Nf6,Nh3,Bxh3,gxh3,e6,Bg2,Nc6,Qb3,Nxd4,Qxb7,Nc2+,Kf1,Nxa1,Bg5,Be7,Bxf6,Bxf6,cxd5,O-O,e4,Nc2,Ke2,exd5,Rd1,Nd4+,Ke3,Nf5+,exf5,d4+,Ke2,Re8+,Kf1,Qd6,Kg1,d3,Qb3,Red8,Bxa8,Rxa8,Rxd3,Qa6,Qd1,h6,Nc3,Bh4,Nd5,Kf8,Nxc7,Bxf2+,Kxf2,Qb6+,Kg2,Qxc7,Rc3,Qb7+,Qf3,Qxb2+,Kg3,Re8,f6,gxf6,Qxf6', 'Re3+,Rxe3,Qxf6', 'https://lichess.org/training/W5qcw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5qws', 'Bullet', 'CryptoBoh', 1945, 'trollop11', 1854, 'g3,g6,Bg2,Bg7,c4,Nf6,Nc3,O-O,d3,Nc6,e4,e5,Nge2,d6,O-O,Bg4,h3,Be6,Be3,Qd7,Kh2,h5,Qd2,Rfe8,f4,Ng4+,hxg4,Bxg4,f5,gxf5,exf5,Bxf5,Bh6,Bh8,Qg5+,Bg6,Be4,Kh7,Nd5,Re6,Bf5,Bxf5,Rxf5,Rxh6,Raf1,f6,Nxf6+,Bxf6,Rxf6,Rxf6,Rxf6,Qg4,Rf7+,Kh8', 'Qh6+,Kg8,Qh7#', 'https://lichess.org/training/W5qws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5SLm', 'Rapid', 'jenssmit', 1713, 'Stokfisch', 1735, 'Nf3,c5,c3,Nf6,d4,b6,Bg5,Ne4,Bh4,Bb7,Nbd2,d5,e3,Nxd2,Qxd2,Nc6,Bd3,Qc7,Bg3,Qd7,Qe2,e6,Ne5,Nxe5,Bxe5,f6,Qh5+,Qf7', 'Bb5+,Ke7,Bd6+,Kxd6,Qxf7', 'https://lichess.org/training/W5SLm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w5t4V', 'Rapid', 'yurigambaretti', 1752, 'Roman199327', 1742, 'e4,c5,f4,Nc6,Nf3,d6,Bb5,Bd7,O-O,a6,Ba4,b5,Bxb5,axb5,d3,e6,Nc3,b4,Ne2,Be7,c3,Nf6,cxb4,Nxb4,a3,Nc6,e5,Nd5,exd6,Bxd6,d4,cxd4,Nexd4,Nxd4,Nxd4,Qf6,f5,O-O,fxe6,Qe7,exd7,Qxd7,Nf5,Rfe8,Qxd5', 'Bxh2+,Kxh2,Qxd5', 'https://lichess.org/training/w5t4V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w5UGi', 'Classical', 'makgifer', 1915, 'Ammar-91', 1712, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qh5,Nxe4,Be7,Bg5,Be6,Bxe7,Nxe7,Nxd4,Qxd1,Raxd1,O-O-O,Nxe6,fxe6,Ng5,e5,Rxd8+,Rxd8,Nf7,Rd2,Rc1,Nc6,Kf1,h6,Ke1,Rd7,Nh8,g5,g3,Rd8,Nf7,Re8,Nxh6,Nd4,Ng4,Rh8,Nxe5,Rxh2,Ng4', 'Rh1+,Kd2,Nf3+,Ke3,Rxc1', 'https://lichess.org/training/w5UGi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w5vB6', 'Rapid', 'necke', 1646, 'zviado-1981', 1632, 'e4,c5,Bc4,e6,c3,a6,d4,b5,Bd3,cxd4,cxd4,d5,e5,Bb4+,Nc3,Qb6,Nf3,Ne7,Ng5,Qxd4', 'Bxb5+,axb5,Qxd4', 'https://lichess.org/training/w5vB6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5vKW', 'Blitz', 'Saif_7', 1548, 'caissa12345', 1790, 'e4,e5,f4,exf4,Nf3,g5,Bc4,d6,O-O,Bg4,d4,Nd7,Nc3,a6,Ne5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/W5vKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w5VPo', 'Rapid', 'smallman', 1805, 'jforacmx', 1866, 'e3,c5,b3,Nc6,Bb2,Nf6,Qe2,e5,Nc3,d6,O-O-O,Be6,h3,Be7,g4,O-O,Bg2,Qc7,f4,a6,g5,Nd7,Be4,exf4,exf4,d5,Nxd5,Bxd5,Bxd5,Qxf4,Qh5,Bxg5,Ne2,Qf5,Rhg1,Nb4,Kb1,Qxc2+,Ka1,Nd3,Bxg7,Kxg7', 'Qxg5+,Kh8,Qg7#', 'https://lichess.org/training/w5VPo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w5XLw', 'Rapid', 'Slugzilla', 1698, 'Pradeep_Jampana', 1654, 'e4,e5,Nf3,d6,Bc4,h6,h3,a6,d4,exd4,Nxd4,Nf6,Nc3,Qe7,Nf5,Qe5,f4,Qc5,Bd3,Bxf5,exf5,Be7,Qf3,Nc6,Be3,Qa5,O-O-O,O-O-O,Kb1,d5,Bd2,Qb6,g4,Ba3,Na4,Qd4,Nc3,Qb4,Na4,Qxa4,bxa3,Qxa3,g5,hxg5,fxg5,Ne8,f6,gxf6', 'Bf5+,Kb8,Qxa3', 'https://lichess.org/training/w5XLw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5XQ4', 'Rapid', 'kotito', 1726, 'Patrizio95', 1633, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,a3,Bg4,Nf3,e6,h3,Bh5,Nc3,Be7,Nb5,a6,Nc3,O-O,g4,Bg6,Ne5,Qc7,Nxg6,hxg6,Qf3,Nc6,h4,Ne5,Qg3,Nfxg4,h5,gxh5,Rxh5,g6,Rh1,Kg7,d4,Rh8,Rxh8,Rxh8,dxe5,Rh1+,Ke2,f5,Qg2,Rh2,Qg3,Bh4,Qd3,Qxe5+,Be3,Rxf2+,Kd1,Nxe3+,Ke1,Nxc2+,Kd1,Nxa1,Ba4,Rxb2,Ne2,Qh2,Qc3+,Bf6,Qc7+,Kh6,Qxh2+,Kg7,Qc7+,Kh6,Nf4,Rb1+,Kd2,Rb2+,Kc1,Nb3+,Bxb3,Rxb3,Nxe6', 'Rc3+,Qxc3,Bxc3', 'https://lichess.org/training/W5XQ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W5yWB', 'Rapid', 'bratobov', 1634, 'Hallelujah0', 1641, 'd4,Nf6,c4,e5,Nc3,d6,dxe5,dxe5,Qxd8+,Kxd8,Nd5,Nxd5,cxd5,Bb4+,Bd2,Bxd2+,Kxd2,Ke7,e4,c6,Nf3,cxd5,Nxe5,dxe4,Ke3,f6,Nc4,Bf5,Be2,Rd8,Rad1,Nc6,a3,Rac8,Nd2,Ne5,Nxe4,Nc4+,Bxc4,Rxc4,Rxd8', 'Rxe4+,Kf3,Kxd8', 'https://lichess.org/training/W5yWB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W60ZL', 'Classical', 'rodic', 1736, 'kazined', 1786, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,Nxd4,cxd4,Bb4+,Nc3,Ne7,Qb3,Bxc3+,bxc3,O-O,O-O,d6,Bd3,Qg6,Kh1,d5,Qc2,dxe4,Bxe4,Qg4,f3,Qe6,Rae1,c6,Bg5,f5,Bd3,Qg6,Bxe7,Re8,Bh4,Be6,Re5,Qh5,Bg3,g6,Rfe1,Bf7,Qe2,Qg5,Bc4,Rxe5,Bxf7+,Kxf7,Qc4+,Rd5,Qe2,Qf6,Be5,Qe7,c4,Ra5,c5,Re8,Qc4+,Qe6,Qb4,Rb5,Qc3,Qd5,a4,Rb3,Qa5,a6,Qc7+,Re7,Qc8,Rd3,Qh8,Rxe5,Qxe5,Qxe5,dxe5,Rc3,Rb1,Ke6,f4,Rxc5,g3,b5,axb5,axb5,Rd1,Rd5,Rc1,c5,Ra1,Rd7,Ra6+,Kf7', 'e6+,Ke7,exd7', 'https://lichess.org/training/W60ZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W61I2', 'Blitz', 'AJSF2020', 2452, 'MuchaMierda', 2303, 'e4,d5,exd5,c6,Nc3,Bg4,d4,Bxd1,dxc6,Nxc6,Nxd1,Nxd4,Bd3,a6,Be3,Nc6,Nc3,Nf6,a3,e6,O-O-O,Qa5,Nge2,Bxa3,bxa3,Qxa3+,Kd2,O-O,Ra1,Qd6,Rhb1,Ne5,Bf4,Nc4+,Ke1,e5,Bg3,b5,Bxc4,bxc4,Ra5,Rfb8,Rd1,Qb4,Rxe5,Re8,Kf1,Rxe5,Bxe5,Re8,Bxf6,gxf6,Nd5,Qb2,Nd4,Ra8,Nxf6+,Kg7,Nh5+,Kg6,g4,a5,f4,f6,f5+,Kf7,Ne6,Qxc2', 'Rd7+,Kg8,Nxf6+,Kh8,Rxh7#', 'https://lichess.org/training/W61I2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w62tS', 'Rapid', 'leochess2009', 2052, 'Bosboy', 2195, 'd4,Nf6,c4,c5,Nf3,cxd4,Nxd4,Nc6,Nc3,e6,Bf4,d5,e3,Bb4,Nxc6,bxc6,Qa4,Qb6,Be5,Ne4,Bd3,f6,Bd4,Nc5,Bxc5,Qxc5,O-O,Bxc3,bxc3,O-O,Rab1,e5,Rfd1,Be6,cxd5,cxd5,Rb7,Rf7,Rdb1,Raf8,Qxa7', 'Qxa7,Rxa7,Rxa7', 'https://lichess.org/training/w62tS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w633C', 'Blitz', 'bonaseras', 2353, 'FM chesszerorfl', 2391, 'b3,d5,Bb2,Nf6,g3,b6,Bg2,Bb7,Bxf6,exf6,e3,c5,Ne2,Be7,O-O,O-O,c3,a5,Nf4,Na6,c4,Nc7,Nc3,d4,Bxb7,Rb8,Bd5,dxc3,dxc3,Qc8,Qh5,g6,Nxg6,hxg6,Qxg6+,Kh8,Bxf7,Rxf7', 'Qxf7,Qe8,Qxe8+', 'https://lichess.org/training/w633C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w65qH', 'Blitz', 'mgonz07', 1998, 'ohickey', 1984, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,e6,Bd3,Bg4,O-O,Nbd7,h3,Bh5,Nbd2,Ne4,Qc1,Nxd2,Nxd2,Nf6,Re1,Bd6,Bxd6,Qxd6,e4,dxe4,Nxe4,Nxe4,Rxe4,Bg6,Rf4,Bxd3,cxd3,O-O,Qe3,c6,Re1,Rad8,Re4,Qb4,b3,Rd5,Qg3,Rxd4,Re5,Rd5,R5e4,Qc3,R1e3,Rfd8,Rg4,Rxd3,Rxd3,Rxd3', 'Qb8+,Rd8,Qxd8#', 'https://lichess.org/training/w65qH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W6aZQ', 'Rapid', 'devIcaroRoberto', 1781, 'dknowogrod', 1779, 'd4,b6,c4,Bb7,Nc3,g6,e4,Bg7,Nf3,d6,Be2,c5,d5,Nd7,Qc2,Ne5,Nxe5,Bxe5,f4,Bd4,Bd2,Nf6,Bd3,Ng4,h3,Nf6,O-O-O,Qd7,Kb1,O-O-O,Nb5,Kb8,Nxd4,cxd4,e5,dxe5,fxe5,Nxd5,cxd5,Bxd5,Bf4,e6,Ba6,Rc8,Bxc8,Rxc8,Qd3,Qb7,Rc1', 'Be4,Rxc8+,Kxc8', 'https://lichess.org/training/W6aZQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w6C9g', 'Rapid', 'nyoumans', 2218, 'Shlecht', 2133, 'Nf3,Nf6,c4,c5,Nc3,d6,d4,cxd4,Nxd4,g6,e4,Bg7,Be2,Nc6,Be3,O-O,O-O,Bd7,Qd2,Rc8,Rac1,Ng4,Nxc6,Rxc6,Bd4,Ne5,b3,a6,f4,Ng4,Bxg7,Kxg7,f5,Qb6+,Kh1,Nf2+,Rxf2,Qxf2,Rf1,Qc5,Nd5,e6,f6+,Kh8,Qh6,Rg8,Ne7,Rcc8,Nxg8,Rxg8,Rf3,Qe5,g4,Qxe4,Kg1,Qxe2', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/w6C9g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w6cqH', 'Rapid', 'AlexBesta', 1725, 'Ahmed_Ismail', 1681, 'd4,Nf6,c4,c6,Nc3,d5,e3,g6,Bd3,Bg7,Nf3,O-O,Qb3,e6,c5,b6,cxb6,axb6,Bd2,c5,dxc5,bxc5,Bb1,Nc6,Qb5,Qd6,a3,Ba6,Qb3,Rab8,Qc2,d4,exd4,cxd4,Ne4,Nxe4,Qxe4,Rxb2,Bd3,Bxd3,Qxd3,Rfb8,O-O,e5,Qe4,Ne7,Qe1,d3,Bb4,Qe6,Qc3,e4,Nd4,Bxd4,Qxd4,Rc2,Rfe1,Rc4,Qe3,Nd5,Qa7,Rd8,Qa5,Nxb4', 'Qxd8+,Kg7,axb4', 'https://lichess.org/training/w6cqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W6dXy', 'Rapid', 'custommods', 1609, 'KirillG', 1668, 'e4,e5,Nc3,Nc6,Bc4,Bc5,d3,h6,Nf3,d6,O-O,Bg4,Re1,Nf6,Be3,Bxe3,Rxe3,Nd4,Qd2,Bxf3,gxf3,O-O,Kh1,c6,Rg1,a5,a4,Nh5,f4,Nxf4,Reg3,g6,Rxg6+,Nxg6', 'Rxg6+,Kh7,Qxh6#', 'https://lichess.org/training/W6dXy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W6EnI', 'Rapid', 'john_mukidi', 1620, 'master15581', 1639, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Qf3,Qf6,Qxf6,Nxf6,Nc3,Ng4,Be3,Bxe3,fxe3,Nxe3,Rc1,Nxc4,b3,Ne3,Ne2,O-O,Kf2,Ng4+,Kf3,d5,h3,Ne5+,Kg3,dxe4,Nd4,Bf5,Rhe1,g5,Nxf5,Kh7,Rxe4,Rae8,Nd4,h5,h4,gxh4+,Rxh4,Kh6,Nf5+,Kg5,Ng7,Re7,Nxh5,Ng6,Rg4+,Kxh5', 'Rh1+,Nh4,Rhxh4#', 'https://lichess.org/training/W6EnI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w6fnq', 'Blitz', 'RangerDon28', 1760, 'k4rmac', 1739, 'Nf3,Nf6,d3,g6,Nbd2,Bg7,e4,d6,e5,dxe5,Nxe5,O-O,f4,Nbd7,Nxd7,Nxd7,Nf3,Nf6,g3,Bg4,Bg2,Qd7,O-O,Bh3,Ne5,Qc8,Re1,Bxg2,Kxg2,Nd7,Nf3,e6,c3,c5,Be3,b5,Qb3,a6,a4,c4,dxc4,bxc4,Qa3,a5,Bd4,Bxd4,Nxd4,Nc5,b4,axb4,cxb4,Nd3,Re3,Qd7,Nf3,Ra7,Rd1,Rfa8,Ne5,Rxa4,Qc3,Ra3,Qxa3,Rxa3,Nxd7,Ra2+,Kh3,Nxb4,Rc1,Nd3,Rxc4,Nf2+,Kh4,f5,Ne5,Ne4,h3,Rh2,Rc8+,Kg7,Nf3,Rh1,Ng5,h6,Nxe6+,Kf6,Nd4', 'g5+,fxg5+,hxg5+,Kh5,Rxh3#', 'https://lichess.org/training/w6fnq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W6FxG', 'Rapid', 'camus133', 1771, 'IIIaurma04', 1810, 'd4,e6,g3,d5,Nf3,c5,Bg2,Nc6,c3,Qb6,O-O,Nf6,a4,a5,Na3,Bd7,Re1,Be7,Nb5,O-O,Bf4,Na7,Nxa7,Qxa7,Ne5,Rad8,Nxd7,Rxd7,Be5,Ng4,Bf4,g5,Bd2,cxd4,e4,dxe3,fxe3,f5,Bh3,h5,Bxg4,fxg4,Qc2,Bc5,Qg6+,Kh8,Qxh5+,Rh7,Qxg5,Rg8,Qe5+,Rgg7,Rf1,b6,Rf8+,Bxf8,Qxe6,Re7,Qxg4,Bh6,Re1,b5,Kg2,Bxe3,Bxe3,Rxe3,Rf1,Qa8', 'Qd4+,Kg8,Qxe3,d4+,Qf3,Qxf3+,Rxf3', 'https://lichess.org/training/W6FxG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w6n7m', 'Blitz', 'aLiSa-OrLoVa', 1978, 'dig2020', 1908, 'e4,b6,Nf3,Bb7,Nc3,g6,d4,Bg7,Be3,e6,Qd2,h6,h3,d6,g4,Ne7,Bg2,Nd7,O-O-O,a6,g5,h5,Nh4,b5,f4,Nb6,Rhf1,Qd7,Qf2,f5,exf5,Bxg2,f6,Bxf1,fxe7,Bxh3,Nxg6,Rh7,d5,Bxc3,bxc3,Nxd5,Bd4,Bg4,Rf1,Nxe7,Nh4,c5,g6,Rh6,Bg7,Rxg6,Nxg6,Nxg6,Re1,Kd8,Bf6+,Kc7,Qg2,Qc6,Qd2,Re8,Re3,Qh1+,Kb2,Kd7,Rd3,Qc6,Be5,Nxe5,fxe5,d5,Qh6,Re7,Rd2,c4,Rf2,Qc8,Rf8,Qc5,Rb8,Bf5,Qf8,Qc7,Ra8,Qb7', 'Qd8+,Kc6,Qd6#', 'https://lichess.org/training/w6n7m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w6RBl', 'Classical', 'ScHlAuPeLz', 1812, 'Sado-San', 1687, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,Bxf3,Qxf3,Nf6,d3,Nc6,O-O,Nd4,Qd1,g6,Be3,Nc6,d4,Na5,Bb3,Nxb3,axb3,exd4,Bxd4,Bg7,g4,O-O,h3,Re8,Re1,c5,Bxf6,Bxf6,Nd5,Bh4,Qf3,Re5,Red1,f5,exf5,gxf5,gxf5,Qg5+,Qg4,Rxf5,Qxg5+,Rxg5+,Kf1,Rf8,Rd2,Rgf5,f4,Bg5,Rg2', 'Rxd5,Kg1,Rxf4', 'https://lichess.org/training/w6RBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w6tEQ', 'Rapid', 'Antiblue', 1953, 'R4mo0', 1824, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,e6,Be2,Nf6,O-O,Bc5,a3,O-O,b4,Bxb4,Bb2,Bxc3,Bxc3,Qd5,Bxf6,gxf6,Rb1,b6,Rb5,c5,d4,Ba6,c4,Qh5,Rb3,Kh8,h3,Rg8,Kh1,Bb7,d5,exd5,Nh2,Qg6,Rg3,Qh6,cxd5,Nd7,Bb5,Ne5,Nf3,Rxg3,fxg3,Rg8', 'Nxe5,fxe5,Rxf7', 'https://lichess.org/training/w6tEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w6vPK', 'Rapid', 'JvaisTeBattreMan', 2076, 'Vincinus', 2119, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Nf3,e5,O-O,Nc6,d5,Ne7,Be3,Ng4,Bd2,h6,h3,Nf6,Be3,Nd7,a3,f5,Bd3,Nf6,Rc1,f4,Bd2,g5,Nh2,Ng6,Be2,Rf7,b4,Bf8,Bh5,Rg7,Ng4,Nxh5', 'Nxh6+,Kh8,Qxh5', 'https://lichess.org/training/w6vPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W6Y4D', 'Rapid', 'Babola73', 1955, 'Vrkau10', 1992, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,h4,h5,Nf3,Nc6,Ng5,d6,Bc4,Nh6,Qd5,O-O,c3,e6,Qd1,Ne5,Bb3,Qc7,Qe2,Bd7,Be3,b6,f3,Rac8,Nd2,a5,Kf2,a4,Bc2,Nc4,Nxc4,Qxc4,Qxc4,Rxc4,Rad1,a3,Bb3,Rc6,Bd4,Bxd4+,cxd4,axb2,Rd2,d5,exd5', 'Rc1,Rxb2,Rxh1', 'https://lichess.org/training/W6Y4D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W70et', 'Rapid', 'Champzleinad', 1984, 'Autzenfan', 1981, 'e4,e5,Nf3,Nf6,Bc4,Bc5,O-O,O-O,c3,Nc6,d4,exd4,cxd4,Be7,e5,Ne8,Re1,d5,Bb3,Bg4,Nc3,Bb4,a3,Bxc3,bxc3,Ne7,Bg5,c6,Qd3,Qc7,Bc2,Bf5,Qd2,Bxc2,Qxc2,Ng6,e6,f6,e7,Nxe7,Bh4,Qd7,Rab1,Nf5,Qb3,Rb8,Qb4,Nxh4,Nxh4,Nd6,Re3,Ne4,f3,Nd2,Rbe1,g5,Re7,Qc8,R1e2,gxh4,Rxd2,Rf7,Rde2,Kg7,Rxf7+,Kxf7,Qe7+,Kg6,Re6,Qh8,f4,Qg7', 'f5+,Kxf5,Qxg7', 'https://lichess.org/training/W70et');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w72Ez', 'Rapid', 'OTG_CaliFoRniA_351', 1770, 'me_zahra', 1882, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,a6,a4,Nd7,Nc3,Ngf6,O-O,Be7,Kh1,Nb6,Bb3,d5,exd5,Nbxd5,Nxd5,Nxd5,Bxd5,Qxd5,b3,Bd7,Be3,O-O,Qd2,b5,axb5,axb5,Rxa8,Rxa8,Qc3,Bf6,Ra1,Rxa1+,Qxa1,Bc6,f3,h6,h3,Bb7,Qc3,h5,Qd3,e5,Qxb5', 'exd4,Qxd5,Bxd5', 'https://lichess.org/training/w72Ez');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W765N', 'Rapid', 'saino1', 1701, 'JezeusRob', 1704, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,Bc4,Nb6,Bb3,c4,Bc2,d6,exd6,Qxd6,O-O,Be6,d4,cxd3,Bxd3,Rd8,Qc2', 'Qxd3,Qxd3,Rxd3', 'https://lichess.org/training/W765N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w77tm', 'Blitz', 'rdo_weilerbeach', 1554, 'diedel', 1695, 'e4,b6,d4,Bb7,d5,e6,Nc3,exd5,exd5,Nf6,Bg5,h6,Bxf6,Qxf6,Nf3,Bc5,Be2,O-O,O-O,d6,Bc4,Nd7,Bb5,Ne5,Nxe5,Qxe5,Bc6,Ba6,Re1,Qf5,Bxa8,Qxf2+,Kh1,Rxa8,Qf3,Qxc2,Re7,Rf8,Rae1,Qxb2,Re8,Rxe8', 'Rxe8+,Kh7,Qf5+,g6,Qxf7#', 'https://lichess.org/training/w77tm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W7Cd6', 'Blitz', 'NM verlager', 2070, 'ElreydeCuba', 2065, 'e4,h5,d4,d6,Nc3,e5,Nge2,exd4,Nxd4,Ne7,Be2,g6,Bg5,Bg7,Nd5,f6,Bxf6,Bxf6,Nxf6+,Kf7,Nd5,Nxd5,exd5,c5,dxc6,Nxc6,O-O,Kg7,Nb5,d5,c4,Be6,cxd5,Bxd5,Nc3,Bf7,Qa4,Qb6,Rad1,Qxb2,Rc1,Rhd8,Rc2,Qb4,Qxb4,Nxb4,Rb2,Nd5,Ne4,Nf4,Bf3,Bd5,Rc1,Kh6,Rd2', 'Bxe4,Rxd8,Rxd8', 'https://lichess.org/training/W7Cd6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w7d1P', 'Classical', 'OYUNBOZAN17', 1885, 'SamaelThanatos', 1899, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,g3,e5,Bg2,Be6,d3,Bb4,Bd2,O-O,Nxd5,Bxd2+,Qxd2,Bxd5,Nf3,Nc6,O-O,Nd4,Nxe5,Bxg2,Kxg2,Re8,Nf3,Rxe2,Qc3,Qd5', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/w7d1P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W7eXl', 'Classical', 'kalite2018', 1858, 'Fambushten', 1880, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Qd2,Ng4,Nxc6,bxc6,Bd4,Nf6,O-O-O,O-O,Kb1,d6,g3,a5,Bg2,Nd7,f4,Rb8,Bxg7,Kxg7,h4,Qb6,b3,Nc5,h5,Bg4,h6+,Kg8,Rde1,Rfd8,Rh4,Be6,Qd4,f6,g4,Bf7,g5,e5,fxe5,fxe5,Qf2,Rf8,Qf6,Ne6,Bh3,Qd8,Bxe6', 'Qxf6,gxf6,Bxe6', 'https://lichess.org/training/W7eXl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W7FY7', 'Blitz', 'croatiaqueen', 1595, 'SuryaPrakashGautam', 1625, 'b3,e5,e3,d5,Bb2,Bd6,c3,Nc6,Bd3,f5,Qh5+,g6,Qe2,e4,Bc2,Nf6,f4,Ng4,h3,Nf6,d3,Bd7,Nd2,Qe7,dxe4,dxe4,Qb5,O-O-O,O-O-O,Nb4,Qa5,Nc6,Qb5,a6,Qe2,Ba3,Kb1,Bxb2,Kxb2,Be6,Nc4,b5,Rxd8+,Rxd8,Ne5,Nxe5,fxe5,Nd5,g4,Bd7,gxf5,gxf5,h4,Qxe5,Qe1,f4,Ne2,f3,Nd4,Rg8,c4,c5,cxd5,cxd4,exd4,Qxd4+,Kb1,Qxd5,Bxe4,Qc5,Bxf3,Rf8,Rf1,Bf5+,Ka1', 'Qd4+,Qc3+,Qxc3#', 'https://lichess.org/training/W7FY7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W7ghc', 'Blitz', 'Johannanas', 1725, 'Lohne', 1733, 'd4,Nc6,c4,d5,cxd5,Qxd5,e3,e5,Nc3,Bb4,a3,Bxc3+,bxc3,Nf6,c4,Qd6,d5,Ne7,a4,Bf5,Nf3,O-O,Ba3,Qd7,Nxe5,Qd8,Be2,Re8,O-O,c6,dxc6,Nxc6,Nxc6,bxc6,Bf3,Be4,Qxd8,Raxd8,Be2,Rd2,Rfe1,Red8,Be7,Rb8,Bxf6,gxf6,f3,Bg6,e4,Rbb2,Kf1,f5,exf5,Bxf5,Rad1,Rdc2,f4,Be6,Bf3,Bxc4+,Kg1,Bd5,Bxd5,cxd5,Rxd5,Rxg2+,Kh1,Rxh2+,Kg1,Rbg2+,Kf1,Rf2+,Kg1,Ra2,a5,Rh4,f5,Rha4,f6,h6,Re3,Rxa5', 'Rg3+,Kh7,Rg7+,Kh8,Rd8#', 'https://lichess.org/training/W7ghc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W7mu8', 'Blitz', 'FM KmRiOaOlNy', 2430, 'Agathodaimon', 2296, 'd4,Nf6,Bf4,e6,e3,c5,Nd2,Nc6,c3,d5,Ngf3,Be7,Bd3,h6,Bg3,a6,Qe2,b5,Ne5,Nxe5,dxe5,Nd7,f4,g6,O-O,Bb7,e4,d4,cxd4,cxd4,a4,Nc5,axb5,Nxd3,Qxd3,Qb6,bxa6,Bxa6,Nc4,Qb7,b3,O-O,f5,Bg5,h3,Be3+,Kh2,Rfc8,fxe6,fxe6,Rf6', 'Bxc4,bxc4,Rxa1', 'https://lichess.org/training/W7mu8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w7Oei', 'Classical', 'laxmirakesh', 1646, 'shiyasmohd', 1882, 'd4,Nf6,c4,e6,Nc3,Bb4,Qb3,c5,dxc5,Bxc5,Bg5,O-O,Nf3,Be7,e3,d6,Bd3,b6,Bxf6,Bxf6,Be4,d5,cxd5,Bb7,dxe6', 'Bxc3+,Qxc3,Bxe4', 'https://lichess.org/training/w7Oei');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W7t16', 'Blitz', 'Ghensin', 1602, 'maklem', 1523, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Be6,d3,Nf6,h3,Nc6,Nf3,Qa5+,Bd2,Qc5,O-O,Nd4,Nxd4,Qxd4,Bc3,Qf4,Qd2,Qf5,Bxf6,gxf6,Qe3,O-O-O,Qxa7,Bh6,Qc5+,Kb8,Qxe7,Rhg8,Kh2,Qf4+,g3,Rxg3,fxg3,Qxf1,Qxd8+,Bc8,Qd6+,Ka8,Bxd5,Qe2+,Kh1', 'Qf1+,Kh2,Qxh3+,Kg1,Be3#', 'https://lichess.org/training/W7t16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w7TiX', 'Rapid', 'SonecaSol', 1747, 'Todamont', 1755, 'e4,c5,Bc4,Nc6,Qf3,e6,c3,b6,Qe2,Be7,Nf3,d6,d3,Qc7,Bf4,e5,Bg3,Bg4,h3,Bh5,Nbd2,Nf6,Bh2,a6,g4,Bg6,g5,Nh5,Bd5,Rb8,Nh4,b5,Nxg6,hxg6,Qf3,O-O,Nf1,b4,c4,Nd4,Qd1,Bxg5,Ng3,Nf4,h4,Bh6,O-O,Qe7,h5,gxh5,Nxh5,Nde2+,Kh1,Qh4,Ng3,Nxg3+', 'fxg3,Qh3,gxf4', 'https://lichess.org/training/w7TiX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W7V0O', 'Classical', 'camby', 1936, 'HeavyMetal77', 1982, 'd4,d5,Nf3,Nc6,Bf4,Bf5,c3,Nf6,e3,e6,h3,Bd6,Ne5,O-O,Nd2,Ne4,Nxe4,Bxe4,f3,Bg6,h4,f6,Nxg6,hxg6,Bxd6,Qxd6,Kf2,Kf7,Qb3,a6,c4,dxc4,Qxc4,b5,Qc3,Ne7,Rc1,Rac8,Qc5,Nf5,Rh3,Rh8,g3,g5,h5,c6,Bd3,Qxc5,Rxc5,Ne7,g4,Rhd8,Be4,Nd5,a3,Rd7,Rh1,Rb7,Rhc1,Rb6,Bxd5,exd5,Rxd5,Ke6,Rdc5,Kd6,d5,Rc7,Ke2,a5,Rxc6+,Rcxc6,Rxc6+,Rxc6,dxc6,Kxc6,Kd3,Kd5,f4,gxf4,exf4,a4,g5,Ke6,h6,gxh6,gxh6,Kf7,Ke4,Kg6,h7,Kxh7,Kf5,Kg7,Ke6', 'Kg6,Kd5,Kf5,Kc6,Kxf4', 'https://lichess.org/training/W7V0O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w7W9X', 'Blitz', 'malu4i', 1817, 'Durchlasserbernd', 1812, 'e4,e5,Nf3,Nc6,Nc3,Nf6,h3,Bb4,a3,Bxc3,dxc3,Nxe4,Qd5,Nf6,Nxe5,Qe7,f4,d6,Bb5,Bd7,O-O,dxe5,fxe5,O-O,exf6,Qe6,Qxe6,Bxe6,Bxc6,bxc6,fxg7,Kxg7,Be3,a6,Bd4+,f6,Rae1,Rae8,g4,Kg6,Kg2,Bd5+,Kg1,Rxe1,Rxe1,Kg5,Kh2,h5,gxh5,Kxh5,b3,Rg8,Re2,f5,c4,Be4,c3,Rb8,b4,Rg8,Rf2,Re8,Kg3,Rg8+,Kh2,Rg6,a4,Kh4,b5,cxb5,cxb5,axb5,axb5,Rg3,Be5', 'Rxh3+,Kg1,Rh1#', 'https://lichess.org/training/w7W9X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W7wFA', 'Rapid', 'Mercuryjon', 1956, 'BuntesHuhn', 2085, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bc5,Be3,Qe7,Nf5,Qf8,Nxg7+,Qxg7,Bxc5,d6,Be3,Be6,Qd2,O-O-O,O-O-O,d5,Nb5,dxe4,Qc3,Rxd1+,Kxd1,Qg4+,Kc1,Rd8,Bc4,Qxg2,Bxe6+,fxe6,Re1,Nd5,Qa3,a6,Na7+,Nxa7,Bxa7,Qxh2,Bc5,Qf4+,Kb1,Qd2,Rc1,Nf4', 'Be3,Qd6,Qxd6,cxd6,Bxf4', 'https://lichess.org/training/W7wFA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W7xba', 'Rapid', 'daskapitallesen', 2184, 'Anfield_Road', 2308, 'd4,Nf6,c4,e5,dxe5,Ng4,e3,Nxe5,Nh3,Ng6,Nc3,Bb4,Bd2,d6,Nf4,Nxf4,exf4,Qe7+,Qe2,Qxe2+,Bxe2,O-O,O-O-O,Na6,Nd5,Bxd2+,Rxd2,Be6,Bf3,Rfe8,Ne3,Rab8,a3,Nc5,Kc2,a5,Kc3,a4,f5,Bd7,Rhd1,Bc6,Nd5,Bxd5,Bxd5,Re5,g4,Rbe8,Bf3,Ne4+,Bxe4,Rxe4,Rd4,f6,h3,b6,Kb4,Rxd4,Rxd4,Re2,Rd3,Rxb2+,Kxa4,Rxf2,Kb5,Rb2+,Kc6,Rc2,Kxc7,Rxc4+,Kxb6,d5,Kb5,h5,Rxd5,Rc3,a4,h4,a5,Rxh3,Rd4,Rb3+,Kc6,Ra3,Kb5,Kh7,a6,h3,Kb6,Kh6,a7,h2,Rd1,Kg5,Kb7,Kxg4,Rf1,Kg3,a8=Q', 'Rxa8,Kxa8,Kg2', 'https://lichess.org/training/W7xba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w7ZcH', 'Rapid', 'aYeLEen', 1722, 'marniet', 1675, 'd4,d5,e3,Bf5,Nf3,Nf6,c4,e6,Be2,Ne4,O-O,Nc6,cxd5,Qxd5,Nc3,Nxc3,bxc3,Bd6,Nd2,O-O,e4,Bxe4,Nxe4,Qxe4,Bf3,Qg6,d5,exd5,Qxd5,Ne7,Qxb7,Nf5,Qa6', 'Bxh2+,Kxh2,Qxa6', 'https://lichess.org/training/w7ZcH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w80Kt', 'Classical', 'KacknussMarlsen', 1980, 'rektm8', 2007, 'e4,c6,Ne2,d5,e5,d4,b4,e6,Bb2,c5,f4,Na6,bxc5,Bxc5,c3,Qb6,Qb3,dxc3,Nbxc3,Bf2+,Kd1,Bd7,Ne4,Bc6,Nd6+,Kf8,Ba3,Ne7,f5,Nc5,Qh3,Qa5,fxe6,fxe6,Nc3,Qxa3,Bc4,Bd7,Rf1,Qb2,Rxf2+,Kg8,Rb1,Qa3,Rxb7,Nd5,Bxd5,exd5,Qf3,Be6,Nf5,Nxb7,Nh6+,gxh6', 'Qg3+,Bg4+,Qxg4#', 'https://lichess.org/training/w80Kt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W85FR', 'Rapid', 'yvou', 1893, 'sakvelu', 1845, 'd4,d5,c4,dxc4,Nf3,Nf6,e3,e6,Bxc4,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O,c6,Qe2,Nbd7,e4,Nb6,Bb3,h6,Rfd1,a5,a4,Nbd7,Rac1,Nh7,Nc4,Ng5,Nce5,Nxe5,Nxe5,Qf6,Qe3,Rd8,f4,Nh7,d5,exd5,exd5,cxd5,Bxd5,Be6,Bxb7,Rxd1+,Rxd1,Rb8,Be4,Nf8,g3,Rxb2,Qc3,Rb4,Qc5,Bb3,Qxa5,Rxe4,Rd8,Be6,Qa8,Qe7,Rxf8+,Qxf8,Qxe4,Qa3,Nc6,Qc1+,Kf2,Qc5+,Kf1,Bc4+,Ke1,Qg1+,Kd2,Qxh2+,Kc3,Be6,Qd3,Qh1', 'Ne7+,Kh8,Qd8+,Kh7,Qg8#', 'https://lichess.org/training/W85FR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w85VR', 'Rapid', 'Rockchess65', 1864, 'saif1366', 1861, 'c3,e6,d3,d5,Bd2,c5,e4,Nf6,Nf3,dxe4,dxe4,Nxe4', 'Qa4+,Nc6,Qxe4', 'https://lichess.org/training/w85VR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W88b1', 'Rapid', 'bloomie4452', 1858, 'sajad1432', 1658, 'e4,b6,d4,Bb7,Nc3,a6,Bd3,e6,Nge2,h5,h4,Nf6,Bg5,c5,e5,cxd4,Nxd4,Bxg2,Rg1,Bc6,exf6,gxf6,Nxc6,Nxc6,Be3,f5,Qd2,Ne5,Bd4,Nf3+,Ke2,Nxd2,Bxh8,Bh6', 'Rg8+,Bf8,Bg7', 'https://lichess.org/training/W88b1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W89as', 'Rapid', 'yellowrook', 1741, 'nisipion', 1777, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nc3,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,O-O,Be7,Bg5,O-O,Rad1,c5,Qe3,Rfe8,Bxf6,Bxf6,e5,Bxe5,Qf3,Bxc3,bxc3,Qc6,Qg3,d5,h3,Rad8,Rfe1,Rxe1+,Rxe1,h6,Re3,d4,cxd4,Rxd4,Re7,Qb6,Qf3,f6,Rxb7,Qa6,Qb3+,Kh7', 'Qf7,Qxb7,Qxb7', 'https://lichess.org/training/W89as');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W89Qg', 'Rapid', 'FunnyBunny95', 1783, 'Algvasil', 1664, 'd4,d5,c4,c6,Nf3,e6,Nc3,h6,b3,Nf6,Qc2,Bb4,Bd2,Qa5,a3,Bxc3,Bxc3,Qc7,Bb4,a5,Bc3,Nbd7,b4,Ne4,cxd5,Nxc3,dxe6,fxe6,Qxc3,axb4,Qxb4,b5,e4,Ra4,Qc3,Ba6,Qb3,Qa5+,Nd2,Ke7,Qe3,Nf6,Be2,Rd8,O-O,Raxd4,Nb3,Rxe4,Nxa5,Rxe3,fxe3,Rd2,Nxc6+,Kd6,Nd4,e5,Nf5+,Kc5,Rac1+,Kb6,Rf2,Ne4,Rc6+,Kxc6,Bf3,Rxf2', 'Bxe4+,Kb6,Kxf2', 'https://lichess.org/training/W89Qg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w8ADK', 'Blitz', 'romuloaguiarfreitas', 2286, 'NM foreignaffairs', 2329, 'd4,Nf6,e3,c5,f4,d5,c3,Nc6,Nf3,Bf5,Bd3,Bxd3,Qxd3,c4,Qc2,Ne4,Nbd2,f5,O-O,e6,Ne5,Bd6,Nxe4,fxe4,b3,Bxe5,fxe5,b5,Qf2,Kd7,bxc4,bxc4,Ba3,Qe8,Rab1,Rb8,Rxb8,Nxb8,Qg3,Rg8,Bd6,Nc6,Rb1,Kc8,Qf2,Qd7,Qb2,Kd8,Rf1,g5,Rf6,h5,Qf2,Kc8,Qb2,Qb7,Qxb7+,Kxb7,Rxe6,h4,Rh6,a5,Bc5,a4,Rh7+,Kb8,Rd7,Na5,Rd6,Nb3,axb3,cxb3,Ra6,b2,Rb6+,Kc7,Rxb2,Ra8,Bd6+,Kc6,Ra2,Kb5,Be7,Kc4,Bxg5,Kb3,e6,h3,Ra1,Kb2,Rf1,hxg2,e7,a3,Kxg2,a2,Rf2+,Kxc3,Rxa2,Rxa2+,Kg3,Ra8,h4,Kd3,h5,Ke2,h6,Kf1,h7,Rh8,Bf6,Rxh7,e8=Q,Rh1,Qf8,Rg1+,Kh2,Rg2+,Kh3,Rf2,Bh4,Rf3+,Qxf3+,exf3,Kg4,Ke2,Bg3,Kxe3,Be5,Ke4,Kg3', 'Ke3,Bf4+,Ke2', 'https://lichess.org/training/w8ADK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w8anh', 'Rapid', 'Sergei_Nov_1234', 2038, 'AndreyKruchkov', 2014, 'd4,c6,e4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,Ngf6,O-O-O,Be7,Kb1,c5,Ne4,cxd4,Qxd4,Nxe4,Qxe4,Qb6,Be3,Qb5,Rd3,Nf6,Qe5,Qxe5,Nxe5,O-O,Rb3,b6,Nc6,Nd5,Nxe7+,Nxe7,f3,Rfd8,Kc1,Nf5,Bf2,Rd7,Rd1,Rad8,Rxd7,Rxd7,g4,Ne7,c4,g6,Kc2,gxh5,gxh5,Nf5,Rd3,Rxd3,Kxd3,Ng7,b4,Nxh5,Be3,Kh7,Ke4,Kg6,c5,Nf6+,Ke5,Nd5,Bd2,h5,c6,h4,Be1,h3,Bg3,a5,bxa5,bxa5,Bh2,Kg5,Kd4,Kf5,c7,Nb6,Kc5,Nc8,Kb5,e5,Kxa5,e4', 'fxe4+,Kxe4,Ka6', 'https://lichess.org/training/w8anh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w8bFx', 'Blitz', 'vddd', 1731, 'Levantine', 1629, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,d4,exd4,e5,Ne4,Bd5,Nc5,Nxd4,Nxe5,Re1,Ng6,Nf5,Ne6,Bxe6,dxe6,Nxg7+,Kf8,Bh6,Qxd1,Rxd1,Kg8,Nc3,Bf6,Ne4,Bxg7', 'Rd8+,Nf8,Nf6+,Bxf6,Rxf8#', 'https://lichess.org/training/w8bFx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8cGY', 'Blitz', 'Mohamedelbechir2021', 1609, 'Haakjoeringskoed', 1584, 'e4,e6,Nf3,d5,exd5,Qxd5,d4,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,O-O,Bd3,b6,O-O,Bb7,Ne5,Nbd7,f3,Qd6,Re1,Rad8,a3,c5,dxc5,Qxc5+,Kh1,Nd5,Nxd7,Rxd7,Bd4,Qc8,c4,Ne7,Be5,Rfd8,Re3,Nf5,Qc2,g6,Bxf5,exf5,f4,Rd2,Qc3,Rxg2,Rf3,Bxf3,Qxf3,Rxb2,Qc3,Rbd2,Bh8,Kf8,Qg7+,Ke7,Qe5+,Kf8,Qg7+,Ke7,Qf6+,Ke8', 'Re1+,Qe6,Rxe6+,fxe6,Qxe6+', 'https://lichess.org/training/W8cGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8Ctd', 'Blitz', 'master0000', 2035, 'Secret_Service43', 1983, 'd4,e6,Nc3,d6,e4,Nf6,Bg5,Be7,Qd2,O-O,O-O-O,c6,f4,Nfd7,Bxe7,Qxe7,Nf3,a5,g4,b5,g5,b4,Ne2,Nb6,Ng3,d5,f5,Ba6,f6,Qc7,e5,Bxf1,Rdxf1,Nc4,Qf4,g6,Qh4,Kh8,Qh6,Rg8,Rhg1,c5,Ne2,Ne3,Rg3,Nf5', 'Qxh7+,Kxh7,Rh3+,Nh6,Rxh6#', 'https://lichess.org/training/W8Ctd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w8cV1', 'Classical', 'Houdinify', 1721, 'keishabina07', 1621, 'd4,h6,c4,e6,Nc3,Bb4,Bd2,d6,d5,e5,e4,Nf6,h3,Bxc3,Bxc3,Nxe4,Rc1,Qh4,Qf3,Ng5,Qd3,Ne4,Qf3,Ng5,Qd3,Qf4,Bd2,Qf6,c5,Bf5,Qb5+,c6', 'Qxb7', 'https://lichess.org/training/w8cV1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8hGq', 'Blitz', 'lovlee', 1794, 'jcv7', 1771, 'd4,Nf6,c4,d5,Nf3,c6,Nc3,Bg4,Ne5,Bf5,Qb3,Qc7,cxd5,cxd5,Bf4,a6,Ng6,e5,Bxe5,Bd6,Nxh8,b5,Nxd5,Nxd5,Qxd5', 'Bb4+,Kd1,Qc2#', 'https://lichess.org/training/W8hGq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8hyr', 'Rapid', 'joe59', 2038, 'pikonov', 2193, 'd4,Nf6,Nf3,g6,c3,Bg7,Nbd2,O-O,e4,d6,Bd3,a6,O-O,b5,Re1,Ne8,Nf1,e5,dxe5,dxe5,Bg5,f6', 'Bc4+,bxc4,Qxd8', 'https://lichess.org/training/W8hyr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8j5r', 'Blitz', 'Gilles31', 1772, 'romeo8982', 1792, 'e4,c5,f4,d6,c3,Nc6,d4,cxd4,c4,e5,fxe5,dxe5,Nf3,Nf6,Bd3,Bg4,O-O,Bc5,a3,O-O,b4,Bd6,c5,Be7,h3,Bh5,Qe1,b6,cxb6,axb6,Nbd2,Bxb4,Qg3,Bc5,Nc4,Re8,Bh6,g6,Bg5,Be7,Ncxe5,Nxe5,Nxe5,Nxe4,Bxe4,Bxg5,Nxf7,Be3+,Kh1,Qe7,Nh6+,Kh8,Rf7,Qxe4,Qc7,Bxh6', 'Rxh7+,Kg8,Qf7#', 'https://lichess.org/training/W8j5r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8jRT', 'Blitz', 'khinou', 1773, 'not_VaiN', 1800, 'd4,g6,Bg5,Bg7,h4,h6,Bf4,c5,c3,Qb6,Qc2,cxd4,Nd2,dxc3,bxc3,Nc6,Rb1,Qa5,e3,Bxc3,Rb5,Bxd2+,Qxd2,Qxd2+,Kxd2,a6,Rb2,e5,Bg3,Nge7,Bd3,b5,Nf3,d6,Rc1,Bd7,Ke2,O-O,Kf1,f5,Be2,e4,Nd2,d5,Bd6,Rf7,a4,Rb8,axb5,axb5,Ra2,Nc8,Bc5,b4,Bd4,Nxd4,exd4,Nd6,Nb3,Bb5,Rc5,Bxe2+,Kxe2,Rb5,Rc6,Nc4,Rxg6+,Kh7,Raa6,f4,Rxh6+,Kg7,Rag6+,Kf8,Rh8+,Ke7,Nc5,f3+,Ke1,Rf6,Rh7+,Rf7,Re6+,Kf8,Rh8+,Kg7,Rhh6,b3', 'Reg6+,Kf8,Rh8+,Ke7,Re6#', 'https://lichess.org/training/W8jRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w8jwE', 'Rapid', 'foebunu', 1849, 'MOHADEVSAHA', 1789, 'e4,d6,d4,f5,exf5,Bxf5,Bd3,Bxd3,Qxd3,Nd7,Nh3,Ngf6,Nf4,e5,dxe5,dxe5,Ne6,Qc8,Qg3,Rg8,O-O,Nc5,Qxe5,Nxe6,Re1,Kf7,Nc3,Bd6,Qf5,Nd4,Qd3,Re8,Bg5,Qf5,Qxd4,Qxg5,Ne4,Nxe4,Rxe4,Rxe4,Qxe4,Qf4,Qxh7,Re8,g3,Qf3,Rf1,Re2,Qh4,Bc5', 'Qc4+,Re6,Qxc5', 'https://lichess.org/training/w8jwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w8NXs', 'Rapid', 'Yurachka', 1858, 'mbaglole', 1670, 'd4,e6,c4,c5,Nf3,Nc6,Nc3,Nf6,e4,cxd4,Nxd4,Nxd4,Qxd4,b6,Qd1,Bc5,Bd3,Ng4,O-O,Qh4,h3,Bxf2+,Kh1,Qg3', 'Qxg4,Qxg4,hxg4', 'https://lichess.org/training/w8NXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8O6X', 'Blitz', 'GM A-Zubarev', 2406, 'BilalDemir1973', 2203, 'e4,e5,Bc4,Nf6,d3,Be7,f4,d6,Nc3,O-O,Nf3,Nbd7,O-O,c6,a4,Qc7,fxe5,dxe5,Nh4,g6,Bh6,Re8,Ba2,Bf8,Qd2,Bg7,Nf5,Bh8,Kh1,Nc5,Qg5,Ne6,Qg3,Nf4,Rxf4', 'Nh5,Rf3,Nxg3+', 'https://lichess.org/training/W8O6X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8QqT', 'Rapid', 'arsen_k_v', 1857, 'ChrisC73', 1650, 'd4,Nf6,Bg5,e6,e4,Be7,Bxf6,Bxf6,e5,Bg5,Nf3,Be7,a3,O-O,Bd3,Nc6,c3,b6,Bc2,Bb7,Qd3,g6,Nbd2,d6,exd6,cxd6,O-O,Bf6,Qe2,Qc8,Be4,Ba6,Bd3,Bxd3,Qxd3,Rd8,Ne4,Bg7,Ng3,Ne7,Ng5,h6,Nf3,Kh7,Rac1,Qd7,Ne4,d5,Ng3,Rac8,Rfe1,Nc6,Ne2,Na5,Rc2,Nc4,Nf4,Qc7,Nh5,Bh8,Ng3,Re8,a4,e5,dxe5,Nxe5,Nxe5,Rxe5,Rce2,Rce8,Qf3,Rxe2,Rxe2,Rxe2,Nxe2,Qd7,Qf4,Qe7,Kf1,Bf6,Qb4,Qe8,Qb5,Qxb5,axb5,Kg7,Ke1,Be5,h3,g5,Kd2,f6,Kd3,Kf7,g3,Ke6,f4,gxf4,gxf4,Bd6,b4,Kf5,Ke3,Be7,Nd4+,Kg6,Nc6,Bd6,Nxa7,Kf5,Nc8,Bxf4+', 'Kd4,Ke6,Nxb6,f5,Nxd5', 'https://lichess.org/training/W8QqT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8rDL', 'Blitz', 'A-Azez', 1552, 'AZLZ', 1741, 'e4,c5,Nf3,d6,g3,Nc6,Bg2,Nf6,Nc3,e6,O-O,Be7,d4,cxd4,Nxd4,O-O,Nxc6,bxc6,Bg5,d5,e5,Nd7,Bxe7,Qxe7,f4,f6,exf6,Nxf6,Ne2,Ng4,Qd3,Qc5+,Qd4,Qxc2,Bf3,Nf6,Rac1,Qf5,Rxc6,Bb7,Rc7,Rab8,Qxa7,Ba8,Rxg7+,Kh8,Nd4,Qd3,Nxe6,Rfe8,Ng5,Rxb2,Be4,dxe4', 'Rxh7+,Nxh7,Qxh7#', 'https://lichess.org/training/W8rDL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8rQz', 'Blitz', 'resipsaloquitur', 2253, 'FM MarkoMakaj', 2325, 'e4,c5,d4,cxd4,Nf3,e6,Nxd4,Nf6,Nc3,d6,g4,a6,g5,Nfd7,Be3,Nc6,h4,Qc7,Qd2,b5,h5,Bb7,Bg2,Nde5,g6,hxg6,hxg6,Rxh1+,Bxh1,Nxg6,f4,O-O-O,O-O-O,Kb8,f5,Nge5,fxe6,Nc4,Nd5,Nxd2,Nxc7,Kxc7,Rxd2,Nxd4,Rxd4,fxe6,Bg5,Rd7,Bf3,Be7,Bd2,Bf6,Ba5+,Kc8,Rd1,Be5,c3,Rf7,Rd3,Kd7,Bb4,Rf4,Re3,Rh4,Kd1,Rh2,Re2,Rxe2,Kxe2,Bf4,b3,g5,c4,bxc4,bxc4,Ke7,Kd3,Kf6', 'e5+,Bxe5,Bxb7', 'https://lichess.org/training/W8rQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w8rzk', 'Rapid', 'alii_soleimani', 2252, 'mionescu', 2273, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,Qa5+,Bd2,Qa4,a3,Ngf6,O-O-O,b5,Rh4,Nd5,Ne4,b4,Nc5,Nxc5,dxc5,Be7,Rg4,Bxc5,Rxg7,bxa3,Qb3,axb2+,Kxb2,Qxb3+,cxb3,Bxf2,Ka2,Kf8,Rg4,f5,Rg6,Kf7,Ne5+,Ke7,Bxh6,Rag8,Bg5+,Ke8,Rxe6+,Kf8,Ng6+,Kf7,Rxc6', 'Nb4+,Ka3,Nxc6,Nxh8+,Rxh8', 'https://lichess.org/training/w8rzk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8sfq', 'Blitz', 'bunyod85', 1664, 'alexjota', 1904, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h5,g5,e6,Nc3,Nd7,Bd2,Ne7,Be2,a6,Nf3,Nf5,Bd3,c5,Bxf5,Bxf5,dxc5,Bxc5,Be3,Rc8,Bxc5,Rxc5,Nd4,Bg6,Qd2,Nxe5,f4,Nc4,Qe2,O-O,O-O-O,b5,Rhf1,Qd7,f5,exf5,Kb1,b4,Na4,Qxa4,Nxf5,Nxb2,Kxb2,Qa3+,Ka1,Qc3+,Kb1,Bxf5,Rxf5,d4,Rxc5,Qxc5,Qd3,Rd8,Qxa6,d3,Rxd3,Rxd3,cxd3,Qg1+,Kb2,Qd4+,Kb3', 'Qc3+,Ka4,Qa3+,Kb5,Qxd3+', 'https://lichess.org/training/W8sfq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w8Trq', 'Rapid', 'Ayaan8003', 1726, 'lucle4', 1645, 'd4,d5,c4,Nf6,Nc3,Nc6,Bg5,e6,cxd5,exd5,e4,h6,Bh4,g5,Bg3,Nxe4,Nxe4,dxe4,d5,Ne7,Qd4,Rg8,Qxe4,Qxd5,Bd3,Bf5', 'Qxd5,Nxd5,Bxf5', 'https://lichess.org/training/w8Trq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w8U2M', 'Rapid', 'Wert012345', 1713, 'nuclearchess902', 1807, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,d6,d3,Be7,h3,O-O,O-O,Na5,Bb3,Nxb3,axb3,Be6,d4,exd4,Nxd4,Bd7,Re1,Re8,e5,dxe5,Rxe5,Bd6,Rxe8+,Qxe8,Ndb5', 'Bxb5,Nxb5,Qxb5', 'https://lichess.org/training/w8U2M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8UOm', 'Rapid', 'eliasradwan1', 1759, 'ali_1340', 1602, 'e4,e5,Nf3,d6,d4,exd4,c3,dxc3,Nxc3,Be7,Bc4,Bf6,Be3,c6,Qd2,Ne7,Bg5,Ng6,O-O-O,O-O,Qxd6', 'Bxg5+,Nxg5,Qxg5+', 'https://lichess.org/training/W8UOm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8Woc', 'Classical', 'beco2017', 1957, 'squidgy', 2065, 'e4,c6,Nf3,d5,exd5,cxd5,Be2,Nc6,d4,Bf5,O-O,Nf6,c4,e6,cxd5,Nxd5,Nc3,Bb4,Qb3,Bxc3,bxc3,Qb6,Qxb6,Nxb6,Bb5,O-O,Bxc6,bxc6,Ne5,Rac8,Ba3,Rfd8,Be7,Re8,Bc5,f6,Bxb6,axb6,Nd7,b5,a4,bxa4,Rxa4,e5,Nc5,exd4,cxd4,Rcd8,Rc1,Re2,Rd1', 'Bc2,Rda1,Bxa4', 'https://lichess.org/training/W8Woc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8yUa', 'Rapid', 'k_i_n_g_z', 1866, 'sirgypsy4', 1849, 'd4,e6,c4,d5,Nc3,dxc4,Bf4,Nc6,e3,a6,Bxc4,b5,Bd3,Nf6,a3,Be7,Nf3,Nh5,Bg3,Bb7,Ne4,b4,Nc5,Bxc5,dxc5,bxa3,Rxa3,Nb4,Be2,O-O,O-O,Nxg3,fxg3,Nd5,Bc4,Qe7,Bxd5,Bxd5,b4,Rfd8,Qc2,f6,e4,Bc6,Rd1,Rxd1+,Qxd1,Bxe4,Re3,Bf5,Nd4,Rd8,Qa1,Bg4', 'Nc6,Qd7,Nxd8', 'https://lichess.org/training/W8yUa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8zaG', 'Rapid', 'Ten_min_game', 1774, 'girnizabar', 1781, 'e4,e5,Bc4,Nf6,Nc3,Bb4,d3,c6,a3,Bxc3+,bxc3,O-O,Ba2,d5,exd5,cxd5,Nf3,Re8,h3,e4,dxe4,Nxe4,Qd4,Ng3+,Be3,Nxh1,Ne5,Nxf2,Kxf2,Qf6+,Nf3,Be6,Rf1,Nc6,Qd2,Ne5,Kg1,Nxf3+,Rxf3,Qd8,Bd4,a6,Rg3,f6,Qh6,Qe7', 'Bxf6,Qxf6,Qxf6', 'https://lichess.org/training/W8zaG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w8Zct', 'Blitz', 'Garthnoc', 1976, 'AlbanJP', 2108, 'd4,Nf6,Bg5,e6,Nf3,c5,e3,Be7,c4,O-O,Nc3,d5,Rc1,Nc6,a3,cxd4,Nxd4,Nxd4,Qxd4,dxc4,Qxc4,Bd7,Bd3,Rc8,Qh4,h6,Bxh6,gxh6,Qxh6,Qa5,g4,Bc6,g5,Ne4,f3,Qxg5,Qxg5+,Nxg5,Rg1,Kh8,Rg4,Nxf3+,Kf2,f5,Rg6,Kh7,Rxe6,Bh4+,Ke2,Ng5,Re5,Be4,Bxe4,Nxe4,Rd1,Nxc3+,bxc3,Rf7,e4,f4,Rh5+,Kg6,Rxh4,Kg5,Rh3,Kg4,Rh6,f3+,Ke3,Rxc3+,Kd4,Rxa3', 'Rg1+,Kf4,Rh4#', 'https://lichess.org/training/w8Zct');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W8zlc', 'Blitz', 'Gmjeffreydags', 1712, 'muhammad210', 1734, 'd4,d5,c4,c6,cxd5,cxd5,Nf3,Nc6,g3,g6,Bg2,Bg7,O-O,Nf6,e3,e6,Nc3,O-O,Qb3,b6,a3,Ba6,Rd1,Bc4,Qc2,Qc7,h4,h5,e4,dxe4,Nxe4,Nxe4,Qxe4,Rad8,Bf4,Qc8,Ne5,Bd5,Qd3,Bxg2,Kxg2,Nxe5,Bxe5,Bxe5,Rac1,Qb7+,f3,Rxd4,Qb5,Rxd1,Rxd1,Rc8,Qxe5,Rc2+,Kh3,Qxf3', 'Rd8+,Kh7,Rh8#', 'https://lichess.org/training/W8zlc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W90Yf', 'Classical', 'Jule_B', 1849, 'drnag', 1793, 'c3,d5,Qa4+,Nc6,Nf3,Nf6,Ne5,Bd7,Nxd7,Nxd7,d4,Nb6,Qc2,e6,Bf4,Bd6,Bg3,O-O,Nd2,Nd7,e4,Re8,Bd3,Bf8,O-O,dxe4,Bxe4,f5,Bd3,Ne7,Bc4,c5,Bxe6+,Kh8,dxc5,Nxc5,Bc4,Rc8,Bf7,Ne4,Nxe4,fxe4,Bxe8,Qxe8,Qxe4,Qb5,Bd6,Nf5,Bxf8,Rxf8,Rfe1,h6,b3,Qc5,Qxb7,Nh4,Qe7', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/W90Yf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w94Qo', 'Classical', 'Vasya710', 1907, 'Pappoose', 1908, 'c4,e5,Nc3,Nf6,e4,Nc6,Nf3,Bc5,h3,O-O,a3,a5,d3,d6,Be2,Nd4,Bg5,Nxf3+,Bxf3,c6,b4,axb4,axb4,Rxa1,Qxa1,Bxb4,Qb2,Qa5,Bd2,Rd8,O-O,d5,Ra1,Qc5,Na4,Qe7,Bxb4,Qe8,Nb6,dxe4,dxe4,Rd4,Ra8,Rd8,Bd6,Rxd6,Rxc8,Rd8,Rxd8,Qxd8,c5,Qe7,Nc8,Qxc5,Qxb7,Qc1+,Kh2,Qf4+,g3,Qxf3,Ne7+,Kf8,Nf5,Qxf2+,Kh1,Qe1+,Kh2,Qxe4', 'Qe7+,Kg8,Qd8+,Ne8,Qxe8#', 'https://lichess.org/training/w94Qo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W987Z', 'Rapid', 'pmateu8', 1843, 'Oleg50', 1783, 'e4,a6,d4,d6,f4,f5,e5,e6,Nf3,Nc6,c4,dxe5,fxe5,Bb4+,Nc3,Nge7,a3,Bxc3+,bxc3,Ng6,Be2,O-O,O-O,b6,Bg5,Qe8,Nh4,Bb7,Bh5,Nce7,Bxe7,Qxe7,Nxg6,hxg6,Bxg6', 'Qg5,Qe2,Qxg6', 'https://lichess.org/training/W987Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W98fb', 'Blitz', 'IM purzelbaumer', 2428, 'SicMundus2020', 2181, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Be3,d6,f3,Nfd7,Qd2,c5,d5,Ne5,Bh6,Bh8,Bxf8,Qxf8,f4,Ng4,h3,Nf6,Nf3,a6,a4,Nbd7,Bd3,Bg7,g4,Rb8,O-O,Qd8,e5,Ne8,e6,fxe6,dxe6,Nf8,f5,b6,Nd5,Bb7,Be4,Nf6,Nxf6+,Bxf6,Bxb7,Rxb7,g5,Bg7,Rae1,gxf5,Nh4,Bd4+,Kh1,b5,Nxf5,Bg7,Nxg7,Kxg7,Rf7+,Kg8,Qc3,Nxe6,Ref1,Rb8,Qe3,Qd7,Qe4,Qb7,Qxb7,Rxb7,h4,bxc4,R1f2,d5,Kh2', 'Rxb2,Rxb2,Kxf7', 'https://lichess.org/training/W98fb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w9ACY', 'Rapid', 'qui_', 1978, 'bajsoniusm', 1775, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,c3,Bc5,Be3,Bb6,O-O,Na5,Nxe5,Nxc4,Nxc4,d5,Nxb6,axb6,e5,Ng4,d4,Qh4,Bf4,h5,Nd2,Bf5,Nf3,Qe7,h3,O-O-O,a4,f6,a5,fxe5,Bg5,Nf6,dxe5,Bxh3,gxh3,Rhg8,axb6,Kb8,Qa4,cxb6,Kh1,Qe6,exf6,Qxh3+,Nh2,gxf6,Qa8+,Kc7,Bf4+', 'Kc6,Qa4+,b5', 'https://lichess.org/training/w9ACY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W9DUd', 'Rapid', 'DOUBTER', 2015, 'chatlanin', 1651, 'c4,e6,Nc3,Nf6,b3,Be7,Bb2,c5,e3,Nc6,a3,b6,Bd3,O-O,Qc2,Ne5,O-O-O,Nxd3+,Qxd3,Bb7,Nf3,Rc8,Nb5,Be4,Qe2,d5,d3,Bg6,Nxa7,Ra8,Nc6,Qc7,Nxe7+,Qxe7,Ne5,dxc4,dxc4,Ne4,f3,Nd6,h4,f6,h5,fxe5,hxg6,h6,Bxe5,Nf5,e4,Nd4,Bxd4,cxd4,Rxd4', 'Qxa3+,Qb2,Qa1+,Qxa1,Rxa1+,Kb2,Rxh1', 'https://lichess.org/training/W9DUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W9f7c', 'Rapid', 'MetehanKingxx', 1714, 'GuyIncognito_de', 1721, 'e4,d6,Nf3,Nf6,Bc4,Nxe4,Qe2,Nf6,d3,g6,Bg5,Bg7,O-O,O-O,Nc3,Nc6,Rfe1,e5,Ne4,h6,Bh4,g5,Nfxg5,hxg5,Bxg5,Nd4,Qd2,Nxe4,dxe4,Qd7,c3,b5,Bd5,Nc6,Re3,Ne7,Bxa8,c6,Rg3,Ng6,h4,f5,exf5,Rxf5,Rd1,d5,Bh6,Qe6,Bxg7,Kxg7,Qe3,Rh5,Qxa7+,Bd7,Rh3,Nf4,Rg3+,Kf6,Qc5,Ne2+,Kh2', 'Rxh4+,Rh3,Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/W9f7c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w9heD', 'Rapid', 'perokreco', 1634, 'VictorJOD', 1687, 'e4,e5,Nf3,Bc5,Bc4,d6,O-O,Bg4,h3,Bh5,Be2,Nf6,d4,exd4,Nxd4,Bxe2,Nxe2,Nxe4,Nbc3,Nxc3,Nxc3,O-O,Qg4,Nd7,Bh6,Qf6,Nd5,Qxh6,Qxd7,Qd2,Nxc7,Rfd8,Qf5,Rac8,Nd5,g6,Qe4,Rb8,Rad1,Qg5,b4,Re8,Qc4,b5,Qc3,Rbc8,Nf6+,Kf8,Nxe8', 'Bxf2+,Rxf2,Rxc3', 'https://lichess.org/training/w9heD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w9hoT', 'Classical', 'Robert_de_la_Villa', 1853, 'DS_TAN', 1841, 'e4,c5,Qf3,d6,d3,Nf6,c3,e5,Be2,Be7,Qg3,O-O,Bh6,Ne8,h4,Kh8,Bg5,h6,Bxe7,Qxe7,Nd2,f5,exf5,Bxf5,Ne4,Nf6,Bf3,Nxe4,Bxe4,Nc6,Ne2,Rf6,Bxf5,Rxf5,f3,Raf8,Qg4,Qe8,Ng3,Rf4,Qh3,Ne7,Ne4,Qc6,Qe6,Nd5,Qxd6', 'Rxe4+,dxe4,Qxd6', 'https://lichess.org/training/w9hoT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W9JLy', 'Rapid', 'paul1991', 1839, 'Duha_Selim2365', 1670, 'e4,e5,d4,d5,exd5,Qxd5,Nc3,Qxd4,Bd2,Bc5,Be3,Qxd1+,Rxd1,Bxe3,fxe3,Nc6,Nf3,Nf6,Bb5,Bd7,O-O,O-O-O,Bxc6,Bxc6,Nxe5,Rhf8,Rxd8+,Rxd8,Nxf7,Rd2,Rd1,Rxg2+,Kf1,Nd7,Nb5,Rxc2', 'Nxa7+,Kb8,Nxc6+,bxc6,Rxd7', 'https://lichess.org/training/W9JLy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w9jTc', 'Classical', 'giotine', 1906, 'Wasabiiii', 1935, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Nd5,Nf3,Bd6,O-O,O-O,c3,f5,Bc2,e4,Nd4,Qh4,g3,Qh3,Qe2,f4,Bxe4,Bg4,f3,fxg3,hxg3,Bxg3,Qg2,Qh4,Ne2,Nf4,Nxf4,Rxf4,d4,Bh3,Qc2,Bxf1,Bxf4,Bxf4,Kxf1,Rf8,b3,Nb7,Bxc6,Nd6,Qf2,Bg3,Qg2,Nf5,Ke2,Qf4,Qg1,Bh2,Qf2,Qd6,Be4', 'Ng3+,Kd1,Nxe4', 'https://lichess.org/training/w9jTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w9mIO', 'Classical', 'thegreat8', 1630, 'JulioCorreia', 1645, 'e4,Nc6,Nf3,Nf6,Nc3,d6,d4,d5,e5,Ne4,Bd3,Bg4,Bxe4,dxe4,Nxe4,Nxd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/w9mIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W9N6B', 'Rapid', 'debbarmabijay', 1722, 'dadu93', 1823, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,h3,O-O,Bxc6,bxc6,Nxe5,d5,Nxc6,Qd6,Na5,dxe4,O-O,exd3,Qxd3,Qb6,Nb3,Ba6,c4,Rad8,Qf5,Bd6,c5,Qb5,Re1,Rde8,Rd1,Qe2,Qf3', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/W9N6B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W9RJc', 'Rapid', 'ArkadiyAA', 1660, 'Alena_Schepichina', 1807, 'e4,e5,Bc4,Bc5,Qf3,Nf6,Qd1,O-O,Nf3,Nxe4,Nxe5,Bxf2+,Kf1,Bg3,hxg3,Qf6+,Kg1,Qf2+,Kh2,Qxg3+,Kg1,Qxe5,Qf1,Qd4+,Kh2,d5,Be2,Qe5+,Kg1,Qg5', 'd3,Qg6,dxe4', 'https://lichess.org/training/W9RJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('W9sW6', 'Rapid', 'JasonBHE', 1601, 'Solenja', 1660, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,O-O,e3,b6,Bd3,Bb7,Nf3,c5,d5,d6,O-O,Nbd7,Qc2,b5,Nxb5,Rb8,Nxa7,Qb6,Nc6,Bxc6,dxc6,Ne5,Nxe5,dxe5,Bxe5,Qxc6,Bxb8,Rxb8,Qe2,Nh5,b3,f5,Rab1,Ra8,a4,f4,exf4,Nxf4,Qf3', 'Qxf3,gxf3,Nxd3', 'https://lichess.org/training/W9sW6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('w9X50', 'Blitz', 'Bek8900', 1628, 'yaserdarabi', 1566, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bg5,Be7,Bf4,Nf6,Nc3,O-O,Bd3,d5,exd5,cxd5,Qd2,Qb6,O-O-O,Bb4,h4,Bxc3,Qxc3,Qxf2,Rhf1,Qxh4,Rh1,Qxf4+,Kb1,Bb7,Bxh7+,Nxh7,Rh3,d4,Qd3,Qf5,Qg3,g6,Rdh1,Kg7,Rxh7+,Kf6,Qh4+,Ke5,Re1+,Kd6,Qxd4+,Bd5,Qb4+,Kd7,Rd1,Rac8,Qb7+,Rc7,Qb5+,Kd6,Qb4+,Rc5,Ka1,Qxc2,Rhh1,Rc8,Qf4+,Kd7,Qxf7+,Kd6,Qf4+,Ke7', 'Rh7+,Ke8,Qf7+,Kd8,Rh8#', 'https://lichess.org/training/w9X50');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wA6d5', 'Rapid', 'steveinpursuit', 2122, 'follett', 2152, 'Nf3,d5,d4,Nf6,e3,e6,b3,g6,Bb2,Bg7,Nbd2,O-O,Bd3,b6,O-O,c5,Ne5,Qc7,Ndf3,Bb7,Re1,Ne4,Rc1,f6,Ng4,h5,dxc5,hxg4,Nd4,Qd7,Qxg4,f5,Qxg6,Qf7,Qxf7+,Kxf7,cxb6,axb6,a4,Nc6,Bxe4,dxe4,Ba3,Rfd8,Nb5,Bf8,Bxf8,Rxf8,Nd6+,Ke7,Nxb7,Rab8,Nc5,bxc5,h4,Nb4,Re2,Rbd8,c3,Nd3,Rb1,Rb8,Ra2,Rb7,a5,Ra8,Ra4,Rb5,b4,Ra6,g3,Kf6,Kg2,Kg6,f3,exf3+,Kxf3,e5,e4,cxb4,exf5+,Kxf5,g4+,Kg6,cxb4,e4+,Ke3,Ne5,Kf4,Nc6,Kxe4,Nxa5,Rba1,Re6+,Kf4,Nb3,R1a3,Nd4,h5+,Kg7,Ra7+,Kf8,g5,Nc2,Rc3,Rxb4+,Kg3,Nd4,Rc8+,Re8,Rxe8+,Kxe8,g6,Nf5+,Kf3,Kf8', 'Rf7+,Kg8,Rxf5', 'https://lichess.org/training/wA6d5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WA6Fc', 'Classical', 'getvishaal', 1630, 'scorpiopawn', 1630, 'e4,e5,Nf3,f5,exf5,Bc5,d4,Bb6,dxe5,Nc6,Bd3,d5,e6,Nd4,Nxd4,Bxd4,O-O,Nf6,Bb5+,c6,Bxc6+,bxc6,Qxd4,O-O,Re1,Qe7,Bg5,h6,Bxf6,Rxf6,Qd3,Bb7,c4,Raf8,cxd5,cxd5,g4,h5,h3,hxg4,hxg4,Rh6,Qg3,d4,f3,d3,Rd1,Qg5,Nc3', 'Qe3+,Kg2,Bxf3+,Qxf3,Rh2+,Kxh2,Qxf3', 'https://lichess.org/training/WA6Fc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wa6iI', 'Blitz', 'andybarefoot', 1684, 'parkplayer', 1876, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Bc5,Qg4,Qd7,Qxg7,O-O-O,Qh6,Qf5,Be3,Qxe5,Bxc5,Nxc5,Qxc6,Ne4,Nc3,Rd6,Qa8+,Kd7,Qxa7,Rg8,Qa4+,Ke7,Nxe4,dxe4,Rae1,Rdg6,Rxe4', 'Rxg2+,Kh1,Rxh2#', 'https://lichess.org/training/Wa6iI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wa6nj', 'Rapid', 'tokye', 2009, 'grobed', 1917, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h5,Bd3,Bxd3,Qxd3,Ngf6,Bg5,Ng4,O-O,Qb6,Rae1,e6,Nf5,g6,d5,cxd5,Qc3,Rh7,N5d4,Bg7,Qa3,Ndf6,Be3,Nxe3,Rxe3,Ne4,Rb3,Qd6,Qa4+,Kf8,Rxb7,Nc5,Qb4,Nxb7,Qxb7,Re8,Qxa7,Bxd4,Qxd4,e5,Qa7,Rg7,Qa4,f6,Rd1,Rc8,c3,Rb8,b4,Rc7,Qb3,Rc4', 'Qxc4,dxc4,Rxd6', 'https://lichess.org/training/wa6nj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WA9jJ', 'Rapid', 'MrChessBandit', 1766, 'KaVa-ru', 1859, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Bd7,O-O,O-O-O,b3,f6,Ba3,fxe5,Nxe5,Nxe5,dxe5,c4,Bxf8,Rxf8,bxc4,Ne7,cxd5,exd5,Nd2,Ng6,c4,Nxe5,cxd5,Rf4,Rc1+,Kb8,Nf3,Ng4,h3,Nf6,Ne5,Be8,Bf3,g5,Rb1,Qd6,Qb3,b5,Nc6+,Bxc6,dxc6,a6,Rfd1,Qc7,Qe6,Re8,Qd6', 'Re1+,Rxe1,Qxd6', 'https://lichess.org/training/WA9jJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WABkh', 'Rapid', 'andre522', 1879, 'voodoo_au', 1858, 'e4,c5,Nf3,d6,Bc4,Nc6,Nc3,Nf6,d3,a6,a4,g6,Ng5,Ne5,Ba2,h6,f4,hxg5,fxe5,dxe5,Bxg5,Bg4,Qd2,Qd4,Bxf6,exf6,Nd5,Bh6,Qa5,O-O', 'Nxf6+,Kg7,Nxg4', 'https://lichess.org/training/WABkh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WABxQ', 'Rapid', 'R2rL', 1569, 'clash1977', 1611, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bd3,Bg7,Bg5,O-O,Qd2,Bd7,Bh6,Nc6,Nb3,Ne5,Bxg7,Kxg7,h3,Rc8,g4,h5,gxh5,Nxh5,O-O-O,Qb6,f4,Nf3,Qg2,Nd4,f5,Nxb3+,axb3,Qe3+,Rd2,Nf4,Qg4,Nxd3+,cxd3,Rxc3+,bxc3,Rc8,c4,Qd4,Rb2,Qxd3,Qg5,Qc3+,Kb1,Qd3+,Ka1,Qxe4,fxg6,f6,Qg2', 'Qxg2,Rxg2,Bc6,Rhh2,Bxg2', 'https://lichess.org/training/WABxQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wADuF', 'Rapid', 'BossOfBosses', 1670, 'Ayo_12-mate', 1894, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Bc4,a6,O-O,h5,d3,Ng4,Qf3,Qh4,Qxf7+,Kd8,h3,b5,Qxg7,Rf8,Bg5+,Qxg5,Qxg5+,Be7,Qxh5,Nf6,Qd1,bxc4,dxc4+,Bd7,Qd2,Kc8,Rad1,Rg8,e5,Bxh3,g3,Bc5,exf6,Rxg3+,Kh2,Rg6,Kxh3,Kb7,Rg1', 'Rh8+,Qh6,Rhxh6#', 'https://lichess.org/training/wADuF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WAEAu', 'Rapid', 'valmasia3', 1955, 'EjaEjaE', 2012, 'e4,e5,f4,exf4,Nf3,g5,Bc4,d6,O-O,Be6,Qe2,Nc6,c3,Bg7,Bb5,Bd7,d4,Nge7,Nxg5,Ng6,Nh3,Qe7,Nxf4,O-O-O,Nd5,Qe8,Bg5,Nce7,Na3,h6,Nxe7+,Nxe7,Bh4,c6,Bc4,Rf8,Qh5,Kc7,Rxf7,d5,Bxd5,cxd5,Bxe7,Rxf7,Bd6+,Kc8,Qxd5,Bc6,Qc4,Rxd6,d5,Qxe4,dxc6,Qxc6,Qxf7,Qb6+,Kh1,Rd7,Qe8+,Kc7,Qe2,h5,h3,Bh6,Nc4,Qc5,Qe5+,Qxe5,Nxe5,Rd2,Nc4,Re2,Rf1,b5,Rf7+,Kb8,Nd6,Rxb2,Rb7+,Ka8,Rxb5,Rxa2,Nf7,Ra1+,Kh2,Bf4+,g3,Ra2+,Kg1,Bxg3,Nd8,h4,Ne6,Ra1+,Kg2,Ra2+,Kf3,Rf2+,Ke4,Re2+,Kd5', 'Re5+,Kc4,Rxe6', 'https://lichess.org/training/WAEAu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WAEql', 'Rapid', 'Boberchik', 1620, 'Anibozz1', 1615, 'c4,c5,g3,e5,Bg2,Nf6,Nc3,Be7,d3,O-O,e4,d6,h3,Qc7,Nf3,h6,Be3,Be6,O-O,Nc6,a3,Nd4,Bxd4,cxd4,Nb5,Qb6,a4,a6,a5,Qc5,Na3,b6,axb6,Qxb6,b3,a5,Nb5,Bd7,Na3,Qc7,Nc2,Qc8,Kh2,Nh7,Ng1,f5,f4,fxe4,Bxe4,Ra7,Bd5+,Be6,Bxe6+,Qxe6,fxe5,dxe5,Rxf8+,Bxf8,Qf3,Rf7,Qe2,Bb4,Nxb4,axb4,Ra8+,Nf8,Nf3', 'Qc6,Nxe5,Qxa8,Nxf7,Kxf7', 'https://lichess.org/training/WAEql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WAG7v', 'Rapid', 'BlundersGenerator', 1992, 'David_Van_Autreve', 1610, 'd4,d5,c4,c6,Nc3,dxc4,e3,b5,a4,Bd7,axb5,cxb5,b3,e6,bxc4,bxc4,Bxc4,Bb4,Bd2,Nf6,Qc2,a5,Nf3,Na6,O-O,Nc7,Ne5,O-O,Nxd7,Qxd7,Qd3,Rfc8,Rfc1,Ncd5,Bb5,Qd8,Nxd5,Rxc1+,Rxc1,Nxd5,Bxb4,Nxb4,Qe4,Rc8,Ra1,g6,g3,Rc2,Bd3,Nxd3,Qxd3,Qc7,Rxa5', 'Rc1+,Kg2,Qxa5', 'https://lichess.org/training/WAG7v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wAh7P', 'Rapid', 'Smetankin20', 2150, 'Dalib007', 2096, 'e4,e5,Nf3,d6,d4,exd4,c3,dxc3,Nxc3,h6,Bc4,c6,Qb3,Qe7,O-O,g5,e5,d5,Bxd5,cxd5,Nxd5,Qc5,Be3,Qa5,Rac1,Nc6,Nf6+,Nxf6,exf6,Be6', 'Qxb7,Nd8,Qxa8', 'https://lichess.org/training/wAh7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('waIMo', 'Rapid', 'fuffiIsBack', 1764, 'che_gue_22', 1815, 'e4,g6,d4,Bg7,Nf3,d6,Bc4,e6,O-O,d5,exd5,exd5,Re1+,Ne7,Bb3,O-O,Nc3,c6,h3,Na6,Bg5,f6,Bh4,Nf5,Re4,Nxh4,Nxh4,f5,Rf4,Bh6,Rf3,Qxh4,Qe2,Bg7,Re1,Bf6,Nxd5,cxd5,Bxd5+,Kh8,g3,Qxh3,g4,Qh4,Qe3,Qxg4+,Rg3,Qxd4,Rxg6,hxg6', 'Qh6#', 'https://lichess.org/training/waIMo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wAj21', 'Rapid', 'tastybreadtrick', 1717, 'Jovic16', 1768, 'd4,e6,c4,d5,e3,c5,Nf3,Qb6,Nc3,Nc6,Be2,Nf6,O-O,h6,b3,Nb4,Bb2,Bd6,Na4,Qc7,Ba3,Ne4,Nd2,cxd4,Nxe4,dxe4,exd4,Bxh2+,Kh1,Bd6', 'c5,Be7,Bxb4', 'https://lichess.org/training/wAj21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wAJOH', 'Rapid', 'Ekber', 1709, 'Ageold', 1703, 'e4,c6,d4,d5,h3,dxe4,Bc4,Nf6,Bg5,Bf5,Bxf6,exf6,Qe2,Qxd4,c3,Qd8,Nf3,Be7,Nh4,Qd7,O-O,O-O,Nd2,b5,Bb3,Qd3', 'Qxd3,exd3,Nxf5', 'https://lichess.org/training/wAJOH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WAkDD', 'Rapid', 'Alrock', 1666, 'Seek_N_Destroy', 1699, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,Nc3,c6,Bc4,Bg4,h3,Bxf3,Qxf3,Nf6,Bg5,cxd5,exd5,Ng6,Bb5+,Ke7,Bxf6+,gxf6,Ne4,Bg7,O-O-O,Qa5,Qb3,Qb6,Qd3,Nf4,Qf1,f5,Nc3,e4,g3,Bxc3,gxf4,Bf6,c3,Rac8,Rd2,a6,Bc4,e3,fxe3,Qxe3,Kb1', 'Qxd2,Qe1+,Qxe1+', 'https://lichess.org/training/WAkDD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wamCH', 'Rapid', 'ConwyCastle', 2259, 'sergey1949', 2126, 'e4,Nf6,e5,Nd5,Nc3,Nxc3,dxc3,d6,Nf3,Bg4,h3,Bxf3,Qxf3,Nc6,Bb5,Qd7,Bf4,a6,Bxc6,Qxc6,Qxc6+,bxc6,O-O-O,g6,Rhe1,Kd7,c4,e6,exd6,cxd6,Bxd6,Bxd6,c5,Kc7,Rxd6,Rad8,Red1,Rxd6,cxd6+,Kd7,b4,Rb8,a3,a5,c3,axb4,cxb4,Rb5,Kc2,h5,Kc3,Rg5,g3,Rf5,Rd2,Rf3+,Kb2,h4,gxh4,Rxh3,Rd4,Rh2,Rf4,f5,Kc3,e5,Rf3,Kxd6,a4,Rxh4,a5,f4,Rd3+,Kc7,f3,Rh1,Kd2,Rb1,Kc3,Rc1+,Kb3,Re1,Kc4,g5,Ra3,Rd1,a6,Kb6', 'a7,Rd4+,Kc3', 'https://lichess.org/training/wamCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wan6Q', 'Blitz', 'NM dmjjmd', 2316, 'jomibema', 2339, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg5,Be6,O-O-O+,Kc8,Nf3,Nbd7,h3,Bb4,Bd3,c6,a3,Bxc3,bxc3,Kc7,Nd2,Nc5,Be3,Nfd7,f4,f6,f5,Bf7,g4,Na4,Nb1,Ndc5,h4,Rad8,g5,Rd7,h5,Rhd8,h6,gxh6,gxf6,Nxd3+,cxd3,Rxd3,Rxd3,Rxd3,Bxh6,Nc5,Rh4,Rd7,Bf8,Nd3+,Kd2,Ba2,Be7,Bxb1', 'f7,Rxe7,f8=Q', 'https://lichess.org/training/Wan6Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wAnFg', 'Rapid', 'Esmaill', 1998, 'Hartler', 2020, 'e4,c6,d4,d5,exd5,cxd5,c4,e6,Nc3,Nf6,Nf3,Bb4,Bg5,Nbd7,Ne5,h6,Nxd7,hxg5', 'Nxf6+,Qxf6,Qa4+,Bd7,Qxb4', 'https://lichess.org/training/wAnFg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('waOFl', 'Bullet', 'smk_2016', 2178, 'whimsicott', 2267, 'd4,b6,c4,e6,Nf3,Bb7,a3,Nf6,Nc3,Be7,Bg5,O-O,Qc2,d5,cxd5,Nxd5,Bxe7,Qxe7,e4,Nxc3,bxc3,c5,Bd3,cxd4,cxd4,Nc6,O-O,Rac8,Qb2,Rfd8,Rad1,Na5,Rfe1,Nc4,Bxc4,Rxc4,d5,exd5,exd5,Qc5,Nd4,Bxd5,Nf5,f6,Ne7+,Kf8,Nxd5,Rxd5,Rxd5,Qxd5,Qe2,Qf7,Qd3,Qc7,Qxh7,Rc1', 'Qh8+,Kf7,Qe8#', 'https://lichess.org/training/waOFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wApHQ', 'Classical', 'Sanguchedesalchicha', 2035, 'LaithAl-Neemy', 1984, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,Be3,Ng4,Qd2,Nxe3,Qxe3,Nc6,Nb3,O-O,O-O-O,Bd7,h4,h5,f4,Rc8,Kb1,Na5,Be2,Rxc3,bxc3,Qc7,g4,hxg4,h5,Bxc3,hxg6,Nxb3,gxf7+,Kxf7,axb3', 'Qa5,Qxc3,Qxc3', 'https://lichess.org/training/wApHQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wApvb', 'Classical', 'fou1234', 2115, 'chinstars', 2240, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,O-O,Nc6,d5,Ne7,b4,a5,Ba3,Nd7,bxa5,Rxa5,Bb4,Ra8,Nd2,b6,a4,c5,dxc6,Nc5,a5,Nxc6,axb6', 'Rxa1,Qxa1,Nxb4', 'https://lichess.org/training/wApvb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wAQfi', 'Rapid', 'Ayuch', 1663, 'natalia_vargas', 1667, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Nc3,b5,Bb3,b4,Nd5,Nxe4,O-O,Nc5,Qe2,Nxb3,axb3,d6,Qe4,Rb8,d3,Be7,Be3,O-O,Qc4,Bb7,Qg4,f5,Qc4,f4,Nxe7+,Kh8,Nxc6,Bxc6,Qxc6,fxe3,fxe3,Rb6,Qe4,Re8,Qc4,d5,Qh4,Qd7,Qg3,e4,d4,exf3,Rxf3,Rg6,Qf2,h6,Rf8+,Rxf8,Qxf8+,Kh7,Qxb4,Qg4,Qd2,h5,g3,h4,Qg2,hxg3,Qxg3,Qxg3+,hxg3,Rxg3+,Kf2,Rg6,Ra5,Rd6,c4,dxc4,bxc4,Rb6,Ra2,c6,Ke2,g5,Kd3,g4,c5,Rb3+,Ke2,Kh6,Rxa6,Rxb2+,Kf1,Kg5,Rxc6,g3,Rc8,g2+,Kg1,Kg4,Rg8+,Kf3,c6', 'Rb1+,Kh2,Rh1#', 'https://lichess.org/training/wAQfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WAS21', 'Rapid', 'HM82', 1693, 'Bayern0072021', 1752, 'e4,e5,Bc4,Nf6,Nc3,Bc5,d3,d6,Bg5,h6,Bxf6,Qxf6,Nf3,Qg6,Nd5,Qxg2,Rf1,Na6,Bxa6,bxa6,Nxc7+,Ke7,Nxa8,Bg4,Nc7,Bxf3,Nd5+,Ke6,Qd2,Qxh2,a3,Bg2,O-O-O,Bxf1,Rxf1,Qg2,Qe2,h5,Nc7+,Ke7,Nxa6,Bb6,Nb4,Be3+,Kb1,Bf4,Qe1,Bd2,Qd1,Bf4,Rg1,Qxf2,Rxg7,h4,Qg4,Qg3,Nd5+,Kf8,Rg8+,Rxg8,Qc8+,Kg7,Qd7,Rh8,Qxd6,h3,Qf6+,Kh7,Qxf7+,Qg7', 'Nf6+,Kh6,Qh5#', 'https://lichess.org/training/WAS21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('waSM6', 'Rapid', 'Victor2007', 2037, 'Figira', 2107, 'd4,d5,c4,c6,b3,Bf5,Nc3,Nf6,g3,e6,Bg2,Be7,Nf3,O-O,Nh4,Bg6,Nxg6,hxg6,Qd3,Nbd7,Bf4,Bb4,O-O,dxc4,bxc4,Nb6,Rab1,Ba5,e4,Nh5,c5,Nxf4,gxf4,Nd7,Rxb7', 'Nxc5,Qc2,Nxb7', 'https://lichess.org/training/waSM6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WAtFI', 'Rapid', 'ochessplayer101', 2114, 'bombarder2015', 1991, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,c6,d4,Bf5,Be2,e6,O-O,h6,Ne5,Nf6,Bf4,Nbd7,Nc4,Nb6,Ne3,Bg6,Be5,Be7,f4,O-O,f5,exf5,Nxf5,Bxf5,Rxf5,Nbd5,Qd3,Qd7,Raf1,Nxc3,b3,Nxe2+,Qxe2,Nh7,c3,Bf6,h4,Bxh4,Bxg7,Kxg7,Qg4+,Bg5', 'Rxg5+,Nxg5,Qxd7', 'https://lichess.org/training/WAtFI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WAv9z', 'Rapid', 'jemico', 2137, 'momo_klaus', 1986, 'c4,Nf6,Nc3,e5,g3,Bb4,Bg2,Bxc3,bxc3,O-O,d4,Nc6,Bxc6,bxc6,dxe5,Ng4,Qd4,d6,exd6,cxd6,Bf4,d5,Nf3,Ba6,cxd5,cxd5,h3,Nf6,O-O,Bxe2,Nh4,Bxf1,Rxf1,Qd7,Be5,Qxh3,Bxf6,gxf6,Qxf6,Qg4', 'Nf5,Qxf5,Qxf5', 'https://lichess.org/training/WAv9z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('waWOC', 'Rapid', 'abhi_shiv', 1633, 'rtop', 1680, 'Nf3,d5,g3,Nc6,Bg2,e5,O-O,e4,Ne1,Nf6,d3,h5,dxe4,h4,exd5,h3,Bh1,Nb4,a3,Nbxd5,Bg5,Be6,Nd3,Be7,c4,Nb6,b3,Qd4,Nd2,Ng4,Bxe7,Kxe7,Nf3,Qf6,Nf4,Rad8,Qc2,Bf5,e4,Bd7,Rad1,g5,Nd5+,Nxd5,exd5,Bf5,Qe2+,Kf8,Nd4,Re8,Qd2,Kg7,Nxf5+,Qxf5,Rde1,Ne5,Qb2,f6,Be4', 'Nf3+,Kh1,Rxe4,Rxe4,Qxe4', 'https://lichess.org/training/waWOC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('waxVk', 'Classical', 'Joker999', 1631, 'aytimofeev', 1679, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,d6,Nbd2,Bg4,d5,Ne7,Bb5+,c6,dxc6,bxc6,Bxc6+,Nxc6,h3,Bxf3,Qxf3,Be7,Nc4,O-O,O-O,Na5,Nxa5,Qxa5,b4,Qc7,Bg5,h6,Bxf6,Bxf6,Rad1,Rfd8,a4,Qc4,Qe3,Bg5,Qd3,Rac8,Qf3,Qxc3,Qxc3,Rxc3,a5,Rb3,Rb1,Rxb1,Rxb1,d5,Rd1,dxe4,Rxd8+,Bxd8,Kf1,f6,Ke2,Kf7,Ke3,Ke6,Kxe4,Kd6,Kf5,Be7,Kg6,Bf8,Kf7,Be7,Kxg7,Kd5,b5,Bb4,a6,Bd2', 'b6,axb6,a7', 'https://lichess.org/training/waxVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('waz0p', 'Classical', 'Balex62', 1848, 'UliK', 1981, 'd4,Nf6,Bf4,d6,e3,g6,Nf3,Bg7,Nbd2,O-O,c3,Nbd7,Qc2,c5,O-O-O,cxd4,exd4,Qa5,Kb1,Qc7,h4,a5,a4,Nb6,Bb5,Bf5,Bd3,Bxd3,Qxd3,Nxa4,Qb5,Qc6,Qc4,Qd7,Kc2,b5,Qb3,Qf5+,Kc1,Qxf4,Rhe1,Qf5,Rxe7,Ng4,Ng5,h6,Nge4,Nxf2,Nxf2,Qxf2', 'Rf1,Nxb2,Rxf2', 'https://lichess.org/training/waz0p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wb3s3', 'Classical', 'IlSar1987', 1739, 'Petr42', 1625, 'Nf3,Nc6,e4,e5,Bb5,Nd4,Nxd4,exd4,d3,Bb4+,Bd2,c5,Bxb4,cxb4,Bc4,Nf6,O-O,O-O,Nd2,d5,exd5,Nxd5,Nf3,Nb6,Bb3,a5,a3,a4,Ba2,b3,cxb3,axb3,Qxb3,Bg4,Ne5,Be6,Qd1,Bxa2,Rxa2,Qd5,Nc4,Nxc4,dxc4,Qxc4,Ra1,Rfd8,Rc1,Qd5,Qd3,Rac8,Rcd1,Rc6,Rfe1,Re6,Rf1,Rb6,Rfe1,Kf8,Qxh7,f6,Qh8+,Kf7,Qh3,Rxb2,Qg3,Rc2,Qd3,Rc3,Qxc3', 'dxc3,Rxd5,Rxd5,Kf1,c2,Ke2,Re5+,Kd3,Rxe1', 'https://lichess.org/training/Wb3s3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WB47E', 'Rapid', 'Dmitriy_PSKOV', 1891, 'reyhornense', 1930, 'e4,e5,Nf3,d6,Bc4,h6,d4,Nd7,dxe5,dxe5,Qd5,Qe7,Nc3,Ngf6,Qd2,Nc5,Qe3,Be6,Bxe6,Qxe6,Nb5,Bd6,Qxc5,Bxc5,Nxc7+,Kd7,Nxe6,Kxe6,O-O,Nxe4,c3,Nxf2,Rxf2,Bxf2+,Kxf2,Rhd8,Be3,Rd7,Re1,f6,Ke2,Rad8,a3,b6,g3,g5,h4,Kf5,hxg5,hxg5,Nh2,Kg6,Ng4,Rd5,Nf2,f5,c4,R5d7,b4,f4,gxf4,exf4,Bc1,Rd4,Ng4,Kf5,Nh6+,Kg6,Ng4,Kg7,Kf2,Rxc4,Re7+,Kf8,Rxa7,Rxc1,Ne5,Rc2+,Kf3,Rd1,Kg4,Rg1+,Kf5,f3,Kf6,Ke8', 'Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/WB47E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wB4Lg', 'Rapid', 'Suheib', 1755, 'SVTSLV', 1739, 'e4,c5,Nf3,Nc6,d3,e6,Be3,d5,exd5,exd5,d4,c4,g3,Qb6,Qc1,Nf6,Bg2,Bb4+,c3,Bd6,O-O,O-O,a4,Bg4,Bf4,Bxf4,Qxf4,Qxb2,Nbd2,Qxc3,Rac1,Qa5,Rfe1,Rfe8,Ne5,Be6,Ndf3,h6,Nxc6,bxc6,Ne5,Qxa4,Ra1,Qb5', 'Reb1,a5,Rxb5', 'https://lichess.org/training/wB4Lg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WB7tI', 'Rapid', 'antou44', 1921, 'Oleg1968Tula', 1716, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,Bg4,Bd3,f5,O-O,Be7,Re1,d5,Nbd2,O-O,Nf1,Nc6,c3,Bd6,Ne3,Bh5,Qb3,Bxf3,gxf3,Qh4,Qxd5+,Kh8,fxe4,fxe4,Nf5,Qxh2+,Kf1,exd3,Be3,Qh3+,Qg2,Qxf5,Rad1,Bf4,Bxf4,Qxf4,Rxd3,Rf7,Rde3,Raf8,R1e2,Rf6,Ke1,Rg6,Qh1,Rh6,Qd5,Rh2,Re8,Rxf2', 'Rxf8+,Qxf8,Rxf2', 'https://lichess.org/training/WB7tI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wb8Gd', 'Blitz', 'LucashBin', 1987, 'PhilipMarlowe', 1981, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bf5,Bb5+,c6,Bd3,Nf6,Bxf5,Bd6,O-O,O-O,c3,g6,Bd3,Nbd7,Bg5,Qc7,h3,Kg7,Nbd2,b5,Nb3,a5,Qd2,Rfe8,Nc1,Ne4,Bxe4,dxe4,Ne1,f5,Bh6+,Kg8,Bg5,Re6,d5,Ree8,dxc6,Ne5,Qd5+,Kg7,Be3,Nc4,Bd4+,Kf8,Qxb5,Nd2,Bc5,Nxf1,Bxd6+,Qxd6,Kxf1,Rab8,Qxa5,Rxb2,Qa4,Qh2,Qa3+,Kf7,Qxb2,e3,Qb3+,Kg7,Ne2', 'Qh1+,Ng1,e2#', 'https://lichess.org/training/Wb8Gd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBaAp', 'Rapid', 'Pilot100', 2067, 'loser69', 1904, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Be3,Bb4,f3,Qc7,Qd3,Nf6,Nxc6,bxc6,Be2,O-O,O-O,Rb8,Rad1,a5,a3,Be7,f4,Rxb2,Bd4,Rb8,e5,Nd5,Ne4,c5,Ba1,c4,Qg3,Qa7+,Kh1,Ne3,Nf6+,Bxf6,exf6,Nf5,Qg5,h6,Qg4,g6,Bxc4,Ne3,Qh3,h5', 'Bd4,Qxd4,Rxd4', 'https://lichess.org/training/wBaAp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WbbVM', 'Rapid', 'Mikkomies', 1622, 'codynholland', 1664, 'd4,d5,c4,c6,e3,Bf5,Nf3,Nf6,Nc3,h6,Bd3,Ne4,O-O,Nxc3,bxc3,Bxd3,Qxd3,e6,c5,Be7,c4,dxc4,Qxc4,O-O,e4,Nd7,e5,Rc8,g3,b5,Qc2,a5,h4,a4,Qe4,Nb8,Nh2,Na6,a3,Qd7,Nf3,Nc7,Bd2,Nd5,Qg4,Kh7,Qh5,f6,exf6,Nxf6,Qe5,Ng4', 'Qe4+,Rf5,Qxg4', 'https://lichess.org/training/WbbVM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WBCDK', 'Rapid', 'mistabassa', 1615, 'jugador1000', 1742, 'e4,e5,Nf3,d6,Bc4,h6,h3,Nf6,d4,exd4,O-O,Be7,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,e5,Bxf3', 'exf6,Bxf6,Qe3+', 'https://lichess.org/training/WBCDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WBcKj', 'Blitz', 'LanceLegal', 1866, 'Terminator72', 1829, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,h3,Bh5,d3,Qf6,Nbd2,O-O-O,b4,Bb6,a4,a6,Bb3,g5,Qc2,g4,hxg4,Bxg4,Nh2,Bd7,Ndf3,Nge7,b5,Nb8,Bg5,Qg7,Bxe7,Rdg8,g3', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/WBcKj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WbdHH', 'Rapid', 'mariofaro', 1918, 'anestis', 1894, 'e4,e5,d4,exd4,Nf3,Bc5,Bc4,h6,c3,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,Nf6,Nxc3,d6,Qe3,Kf7,O-O,Re8,Qf4,Kg8,b3,Nc6,Bb2,Bd7,Rfe1,Ne5,Nd5,Rf8,Qe3,Nxf3+,gxf3,Nxd5,exd5,Bh3,Kh1,Rf7,Rg1,Qh4,Rg3,Raf8,Rag1,g5,Qc3,Rf6,Qxc7,R6f7,Qxd6,Qh5,Qe5,Rf6,d6,Bd7,Qc5,Rxf3,Qd5+,R3f7,Re1', 'Bc6,Qxc6,bxc6', 'https://lichess.org/training/WbdHH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WbdwU', 'Rapid', 'harsh_chess_player', 1733, 'maks1906', 1808, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,Be7,Nf3,Nbd7,e3,b6,Rc1,Bb7,cxd5,Nxd5,Nxd5,Bxd5,Bxc7,Qc8,Be5,Qb7,Bxg7,Rg8,Bh6,Bb4+,Nd2,Ke7,Bf4,Bxg2,Rc7,Qd5,Bc4,Bxd2+,Qxd2,Qa5,b4,Qh5,Rg1,Rac8,Be2,Bf3,Rxg8,Rxg8,Bg3,Bxe2,Qxe2,Qxe2+,Kxe2,a5,bxa5,bxa5,Kd3,Ra8,Ke4,f6,d5,exd5+,Kxd5,Ke8,Kd6,Rd8,Kc6,Nb8+,Kb5,Nd7,Kxa5,Ra8+,Kb5,Rxa2,Bd6,Rxf2,Kc6,Rc2+,Kd5,Rxc7,Bxc7,Kf7,Kd6,Ne5,Kd5,Ng4,e4,Ne3+,Kd4,Nc2+,Kd3,Nb4+,Kc4,Nc6,Kd5,Ne7+,Kd6,Ng6,Kd5,h5,Bg3,Ne7+,Kd4,Kg6,Ke3,Nc6,Kf4,Nd4,e5', 'Ne2+,Kf3,Nxg3', 'https://lichess.org/training/WbdwU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBdwX', 'Rapid', 'albi969', 1951, 'Cornamenta677', 2188, 'e4,b6,d4,Bb7,Nc3,g6,Nf3,Bg7,Be3,d6,Bd3,Nd7,O-O,e5,d5,Ngf6,h3,O-O,Qd2,c6,Bh6,cxd5,Bxg7,Kxg7,Rae1,dxe4,Nxe4,d5,Nxf6,Nxf6,Be2,e4,Nh2,Qc7,Ng4,Nxg4,hxg4,Rad8,Qd4+,Kg8,f3,Qxc2,Bb5,a6,Ba4,Qc7,Rc1,Qd6,Kf2,exf3,Kxf3,b5,Bc2,Qh2', 'Rh1,Qxh1,Rxh1', 'https://lichess.org/training/wBdwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBecz', 'Rapid', 'mehdi140', 1858, 'meeru', 1997, 'e4,c5,Bc4,e6,d3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,Qf3,Nf6,Ne2,Nc6,c3,Bd6,Na3,a6,h3,O-O-O,Nf4,Rde8+,Be3,d4,cxd4,cxd4,Nc4,dxe3', 'Nb6+,Kb8,Nxd7+', 'https://lichess.org/training/wBecz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wbfsn', 'Bullet', 'Vinay-sharma', 1576, 'acbrasil', 1513, 'd4,d5,c4,e6,Nf3,Nf6,e3,Be7,Nc3,O-O,Bd3,a6,cxd5,exd5,O-O,Bg4,h3,Bxf3,Qxf3,c6,Bd2,Re8,e4,dxe4,Nxe4,Nxe4,Qxe4,g6,Bh6,Bf8,Qf4,Bxh6,Qxh6,Qf6,Rad1,Nd7,Qd2,Nb6,Bc2,Nd5,Rfe1,Nf4,Re5,Rad8,Qe3,Rxe5,dxe5,Rxd1+,Bxd1,Qf5,g4,Qb1,Qxf4,Qxd1+,Kh2,Qc2,Qd4,c5,Qd8+,Kg7,Qf6+,Kh6,Qxf7,Qe4,Qf8+,Kg5,Kg3,Qxe5+', 'f4+,Qxf4+,Qxf4#', 'https://lichess.org/training/wbfsn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WbG2u', 'Rapid', 'AlexPich', 1848, 'aneba', 1871, 'c4,e5,g3,c6,d4,d5,dxe5,d4,e3,Bb4+,Bd2,dxe3,Bxb4', 'exf2+,Kxf2,Qxd1', 'https://lichess.org/training/WbG2u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wbg4v', 'Classical', 'AqilahHusna', 1743, 'Xiller', 1784, 'd4,d5,Bf4,Nc6,e3,Nf6,c3,Ne4,Bd3,f5,Nf3,e6,Qe2,g5,Nxg5', 'Nxg5,Qh5+,Nf7', 'https://lichess.org/training/Wbg4v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WbghS', 'Rapid', 'badboybadongo', 1623, 'Yann20', 1610, 'd4,d5,Bf4,f6,Nc3,a6,Qd2,Nc6,Nf3,g5,Bg3,Nh6,O-O-O,Bf5,Na4,e6,a3,Bg6,h3,Nf5,Bh2,e5,e3,e4,Ne1,Qe7,g4,Nh4,Nc5,O-O-O,Qc3,Be8,Be2,Na7,Nxa6,bxa6,Bxa6+,Kd7,Qxc7+,Ke6,Qb6+,Kf7,Bc7,Rd7,Qxa7,Rxc7,Qb6,Nf3,Nxf3,exf3,Rhg1,Ba4,Rd3,Rxc2+,Kb1,Rxf2,Rc3,Kg6,Rgc1,Qe4+', 'Bd3,Qxd3+,Rxd3', 'https://lichess.org/training/WbghS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBHvw', 'Rapid', 'ruufseir', 2070, 'cruznegrete', 1766, 'e4,e5,f4,Nc6,Nf3,g6,fxe5,Nxe5,Nxe5,Qe7,Nf3,Qxe4+,Qe2,Qxe2+,Bxe2,Bg7,O-O,b6,d4,Bb7,Be3,O-O-O,c3,Re8,Kf2,Nf6,h3,Nd5,Bd2,Re7,Na3,Rhe8,Bc4,Nf6,Ng5,Bd5,Bxd5,Nxd5,Nb5,Kb7,Rae1,h5,Nxf7,Rxf7+,Kg3,Rfe7,Rxe7,Rxe7,Bg5,Re2,Rf7,Bh8,Rxd7,a6,Nd6+,Kc6,Rd8,Bf6,Bxf6,Nxf6,Nc4,Ne4+,Kf3,Re1,h4,Nf6,Ne5+,Kb7,Nxg6,Ng4,Nf4', 'Re3#', 'https://lichess.org/training/wBHvw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBIBQ', 'Rapid', 'potatoBird', 1848, 'vedant_kedia', 1881, 'e4,e5,f4,Nf6,fxe5,Nxe4,Nf3,Nc6,d4,d6,Bd3,Bf5,O-O,dxe5,dxe5,g6,Bxe4,Qxd1', 'Bxc6+,bxc6,Rxd1', 'https://lichess.org/training/wBIBQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wbiHI', 'Classical', 'buarda', 1724, 'Hasenthies', 1627, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,Nc3,Qd8,O-O,Bd6,d3,O-O,Be3,Nd4,Bxd4,exd4,Ne4,Be7,c3,dxc3,bxc3,f5,Ng3,Bd7,Qb3+,Kh8,Qxb7,Bf6,d4,a5,Qb3,a4,Qc2,Be7,Rfe1,Bd6,Ne5,Bc8,Rad1,Bb7,Nxf5,Qg5,Ng3,Rae8,Nf7+,Rxf7,Rxe8+,Bf8,Qxa4,Qf6,Qa3', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/wbiHI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WBIPG', 'Rapid', 'name222', 1712, 'kian55', 1822, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Bg4,O-O,Nd7,Bg5,Qb6,b3,Rc8,Be2,a6,Nc3,Bb4,Na4,Qc7,c3,Ba3,Nd2,Bf5,Nb1,Bf8,Bd3,Bg6,f4,Ne7,Bxe7,Bxd3,Qxd3,Bxe7,f5,b5,Nc5,Nxc5,dxc5,Bxc5+,Kh1,Qxe5,fxe6,Qxe6,Nd2,O-O,Nf3,Bb6,Ng5,Qh6,Qf5,Bc7,g3,Bxg3,h3,f6,Qe6+,Kh8,Nf7+,Rxf7', 'Qxc8+,Rf8,Qxf8#', 'https://lichess.org/training/WBIPG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wbIpL', 'Rapid', 'colinlapin50', 1635, 'novato09', 1727, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,Bb4,e3,c5,a3,Bxc3+,bxc3,cxd4,cxd4,O-O,Qc2,Nc6,cxd5,Nxd5,Bd3,h6,Bh7+,Kh8,Bd3,Qf6,O-O,e5,dxe5,Nxe5,Bb2,Nxf3+,gxf3,Qxf3,Be4,Qg4+,Kh1,Nf6,Bxf6,gxf6,Rg1,Qh4,Bf5,Be6,Rg4,Qh3,Rg8+,Rxg8,Bxh3,Bxh3,Rg1', 'Rxg1+,Kxg1,Rg8+,Kh1,Bg2+', 'https://lichess.org/training/wbIpL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WBJoK', 'Blitz', 'GKB38', 2046, 'King_boris', 2090, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nge2,e5,Nxd5,Qxd5,Nc3,Qd8,d3,Be6,Be3,Nc6,Be2,Qd7,O-O,O-O-O,Ne4,Nd4,Bf3,Nxf3+,Qxf3,Bd5,Qe2,Kb8,Rfd1,f5,Nc3,Bc6,d4,exd4,Bxd4,Bd6,g3,h5,f4,h4,Qf2,hxg3,Qxg3,g5,Kf1,gxf4,Qd3,Rxh2,Bg1,Rg2,Rd2,Rdg8,Rxg2,Rxg2,Re1,f3,Qe3,Bg3', 'Qxa7+,Kc8,Qa8#', 'https://lichess.org/training/WBJoK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wbJYj', 'Rapid', 'Bolondro', 1656, 'xnova333', 1603, 'd4,c5,c3,c4,Bf4,d6,Qa4+,Nc6,Qxc4,a6,a4,Nf6,h3,Ne4,Nd2,Na5,Qd3,Nxd2,Bxd2,g6,b4,Bf5,e4,Nb3,Rb1,Nxd2,Kxd2,Bd7,Ra1,Bh6+,Ke2,O-O,g3,a5,b5,Be6,d5,Bd7,Nf3,Rc8,Bg2,Qb6,Nd4,Bg7,Rac1,Rc5,f4,e6,dxe6,fxe6,Qe3,Rfc8,Rhd1,Rc4,Ra1,Rxc3,Qd2,Bxd4,Qxd4,Rc2+,Kf1,Qxd4,Rxd4,d5,exd5,exd5,Bxd5+,Kg7,Bxb7,Rd8,Bc6', 'Bxh3+,Kg1,Rxd4', 'https://lichess.org/training/wbJYj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WBKAj', 'Blitz', 'FM kchess20', 2327, 'Edson15', 1650, 'e4,g6,h4,Bg7,h5,b6,Nc3,Bb7,Bc4,e6,Qf3,Nc6,Nge2,Ne5,Qg3,Nxc4,d3,Ne5,f4,Nc6,Be3,Qe7,O-O-O,O-O-O,d4,d6,Kb1,e5,d5,Nd4,Nxd4,exd4,Bxd4,Bxd4,Rxd4,Nf6,h6,Qd7,e5,dxe5,fxe5,Nxd5,Rhd1,Qe6,Ne4,Ne7,Ng5,Qc6,Nxf7,Nf5', 'Rxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/WBKAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wbKhO', 'Rapid', 'Colombita', 1660, 'angeljimar', 1658, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,h6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,Nf6,Be3,Be6,Bxe6,fxe6,O-O,Be7,Qe2,O-O,Rfd1,Qb6,b3,Qb4,Bd2,Qb6,e5,Nd5,Nxd5,exd5,exd6,Bxd6,Qe6+,Kh8,Qxd5,Rad8,Qh5,Bc7,Bg5,Rxd1+,Rxd1,Qe6,Be3,Rf5,Qe2,Qe5,g3,Qf6,Rd7,Bb6,Qd3,c4,bxc4,Bxe3,Qxe3,Qa1+,Kg2,Qf6,Rxb7', 'Qc6+,f3,Qxb7', 'https://lichess.org/training/wbKhO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wbkQ7', 'Blitz', 'High5ive', 2136, 'Emerald09551', 1882, 'd3,g6,h4,Bg7,h5,h6,hxg6,fxg6,e4,e6,Qg4,Qf6,Bd2,Qxb2,Bc3,Bxc3+,Ke2,Qxc2+,Kf3,Qd1+,Be2,Qc1,Qxg6+,Kf8,Nxc3,Qxa1,Nb5,Na6,d4,Qc1,Rh4,Qg5,Rf4+,Ke7', 'Qf7+,Kd8,Qf8#', 'https://lichess.org/training/wbkQ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WBMk6', 'Blitz', 'Shakko', 1880, 'PierreC', 1902, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,O-O,Be7,c3,h6,h3,Bd7,Re1,O-O,Nbd2,a6,Ba4,b5,Bb3,a5,d4,a4,Bc2,Ne8,Nf1,f5,exf5,Bxf5,dxe5,Bxc2,Qxc2,dxe5,Nxe5,Nxe5,Rxe5,c6,Bxh6,gxh6,Qg6+,Ng7,Qxh6,Bf6,Re4,Qd5,Rg4,Rae8,Ng3,Re6,c4,bxc4,Nh5,Bxb2', 'Rxg7+,Bxg7,Qxg7#', 'https://lichess.org/training/WBMk6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wbOqB', 'Classical', 'GreenGhost', 1652, 'Yurii111', 1701, 'e4,e6,d4,d6,Nf3,b6,c4,Nf6,Bg5,Be7,Nc3,h6,Bh4,O-O,Bd3,Nc6,a3,e5,d5,Nd4,Nxd4,exd4,Nb5,Nxd5,Bxe7,Nxe7,Nxd4,Bb7,Qg4,Bc8,Qg3,c5,Nb5,f5,Nxd6', 'f4,Qf3,Qxd6', 'https://lichess.org/training/wbOqB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WboUe', 'Blitz', 'FM DamageDoers', 2425, 'giorbinky', 2415, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,d5,a3,Bxc3+,bxc3,c5,cxd5,Nxd5,dxc5,Qa5,e4,Ne7,Be3,Nbc6,Qb3,O-O,Bb5,e5,Ne2,Qc7,O-O,Be6,Bc4', 'Na5,Bxe6,Nxb3', 'https://lichess.org/training/WboUe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WBp1S', 'Blitz', 'Lakshmanlucky', 1543, 'avissh', 1551, 'd4,d5,c4,dxc4,Nf3,Nf6,Nc3,Bf5,Bg5,Nbd7,e3,e6,Bxc4,Be7,O-O,O-O,Re1,Ne4,Bxe7,Qxe7,Bd3,Nxc3,bxc3,Bxd3,Qxd3,Nb6,a4,c6,a5,Nd5,a6,b6,Ne5,Rac8,Rab1,c5,g3,cxd4,cxd4,f6,Nc4,Qc7,Rec1,Qb8,Qa3,Rcd8,e4,Ne7,Rd1,Qc7,Rbc1,Ng6,Ne5,Qb8,Nc6,Qa8,Nxd8,Rxd8,f3,f5,Re1,fxe4,fxe4,Rf8,Qd6,Qe8,Rc7,Qa4,Qxe6+,Kh8,Rxa7,Qxd4+,Kg2,Qf2+,Kh3,Qxe1,Rf7,Kg8,Rxf8+,Kxf8,Qf5+,Kg8,a7,Qa1,Qc8+,Kf7,a8=Q,Qf1+,Kg4,Ne5+,Kh4,Nf3+,Kg4,Nxh2+,Kh4,Nf3+,Kg4,Ne5+,Kh4,Qh1+,Kg5', 'Qh6+,Kf5,Qf6#', 'https://lichess.org/training/WBp1S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WbpZP', 'Rapid', 'arielfisher1983', 1847, 'jolepole', 1750, 'd4,d6,c4,e6,e4,Nf6,Nc3,Be7,Nf3,h6,Bd3,c5,d5,O-O,Bf4,a5,O-O,Ra6,a3,Nbd7,Re1,Ng4,Nd2,Ndf6,h3,Ne5,Be2,Ng6,Bg3,Qb6,Na4,Qa7,Bd3,e5,Re3,Nf4,Bxf4,exf4,Rf3,Bd7,Rxf4,Bxa4,Qxa4,Qb6,Rb1,Qd8,Qd1,Nd7,Be2,Bg5,Rg4,Nf6,Rg3,Bxd2,Qxd2,Nxe4,Qf4,Nxg3,fxg3,Re8,Bd3,Re5,Rf1,Qe7,Qg4,Rg5', 'Qc8+,Qf8,Bh7+,Kxh7,Qxf8', 'https://lichess.org/training/WbpZP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wbq5I', 'Rapid', 'yago04', 1748, 'BlueSoup', 1687, 'd4,d5,c4,c6,c5,b6,b4,a5,Qa4,Bd7,Bf4,Na6,e3,Nxb4,a3,b5,Qb3,Na6,Nf3,Nf6,h3,Ne4,Bd3,a4,Qb2,Bf5,O-O,e6,Bxb5,cxb5,Qxb5+,Qd7,Qb2,Rb8,Qe2,Nc7,Nbd2,Nc3,Qe1,Bd3', 'Ne5,Qb5,Nxd3,Qxd3,Bxc7', 'https://lichess.org/training/wbq5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBqfI', 'Classical', 'CONSTANTINE-888', 1708, 'boy8yo', 1707, 'd4,d5,g3,Nf6,Bg2,g6,Nf3,Bg7,O-O,O-O,c4,e6,Nbd2,Nbd7,h3,b6,b4,c5,Ba3,cxb4,Bxb4,Re8,Ne5,Nxe5,dxe5,Nd7,cxd5,a5,dxe6,Rxe6,Bxa8,Bxe5,Rb1,axb4,Bd5,Rd6,Qb3,Qe7,Ne4,Nc5,Nxc5,bxc5,Rfc1,Rf6,Qc4,Bxh3,Qxc5,Qxc5,Rxc5,Bd4,Rc4,Bxf2+,Kh2,Be6,Bxe6,Rxe6,e4,Ra6,Rb2,Be1,Re2,Bc3,Rc7,Ra3,Rf2,Be1,Rfxf7', 'Bxg3+,Kg2,Bxc7', 'https://lichess.org/training/wBqfI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBr1v', 'Rapid', 'Alex7377', 1711, 'sidbud21', 1764, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,d6,h3,Bd7,d4,a6,d5,Ne7,a4,h6,O-O,Qc8,Kh2,g5,Ng1,g4,h4,Ng6,g3,Be7,h5,Nxh5,f3,gxf3,Qxf3,f5,Qxh5,Rg8,exf5,Bg5,fxg6,Bg4,Qxh6', 'Bxh6,Bxh6,Rh8,Kg2,Rxh6', 'https://lichess.org/training/wBr1v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBrEQ', 'Rapid', 'EagleBlue', 1610, 'Homeshake', 1618, 'e4,d5,Nc3,d4,Nd5,e5,d3,c6,c4,cxd5,cxd5,Nf6,h3,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Nf3,Re8,Be2,Nbd7,b4,Nf8,a3,Ng6,g3,b6,h4,Bg4,Nh2,Bxe2,Qxe2,a5,b5,Qd7,a4,h6,Rc1,Rac8,Kd2,Rc7,Rc6,Rxc6,dxc6,Qe6,Rc1,Qa2+,Rc2,Qxa4,c7,Rc8,Ng4,Qxb5,Nxf6+,gxf6,Qg4,Qb4+,Ke2,Qf8,h5,Kh7,hxg6+,fxg6,Qd7+,Kg8,Qe6+,Kh8,Rc6,a4,g4,a3,Qb3,Qe7,Qxb6,a2,Qa6,Rxc7,Qa8+,Kg7,Rxc7,Qxc7,Qxa2,Qf7,Qc2,f5,f3,fxe4,fxe4,h5,gxh5,gxh5,Qd1,h4,Qg1+,Qg6,Qh2,Qh5+,Kd2,Kh6,Kc2,Qg5,Kb3,Kh5,Kc4,Qg3,Qe2+,Qg4,Qf2,h3,Qf7+,Qg6,Qf3+,Kh4,Qf2+,Qg3,Qf6+,Qg5,Qf2+,Kh5,Qf7+,Qg6,Qf3+,Qg4,Qf7+,Kh6,Qf6+,Qg6,Qh4+,Qh5,Qf6+,Qg6,Qh4+,Kg7,Qxh3,Qc6+,Kb3,Qc3+,Ka4,Qc2+,Kb5,Kf6', 'Qf5+,Kg7,Qxe5+', 'https://lichess.org/training/wBrEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wbs1b', 'Rapid', 'szid45', 1729, 'pa77', 1744, 'e4,e5,Nf3,d6,h3,Nc6,Bb5,Bd7,Nc3,a6,Bc4,h6,d3,f5,O-O,f4,Bxg8,Rxg8,a3,g5,Nh2,Qf6', 'Nd5,Qg6,Nxc7+,Kd8,Nxa8', 'https://lichess.org/training/wbs1b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wbsnn', 'Classical', 'yooyo', 1792, 'aybey07', 1729, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,Re1+,Be7,h3,O-O,d3,Nc6,Nc3,d4,Ne4,Nxe4,Rxe4,f5,Re1,Bd6,c3,dxc3,bxc3,Rad8,d4,cxd4,cxd4,h6,Bb2,Be7,Ne5,Nxe5,Rxe5,Bf6,Ra5,b6,Ra4,Kh7,Rb1,Qf7,Qd3,Rd5,Bc1,Qd7,Rab4,Bxd4,Qf3,Bc5,Rc4,Rd1+,Kh2,Bd6+,g3,Bc5,Rh4,Rf1,Rb2,Rxc1,Re2,Rd1,Rf4,Rd2,Rxd2,Qxd2,Kg2,Qd7,g4,Rd8,Rxf5,Qd6,Qe4,Kh8,g5,Bxf2,Rxf2,Qd5', 'Rf8+,Rxf8,Qxd5', 'https://lichess.org/training/Wbsnn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wbtbf', 'Blitz', 'jimmythesaint', 1606, 'Ivan1952', 1780, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,Nc3,d4,Ne4,Nc6,d3,g6,O-O,Bg7,Bg5,h6,Bh4,g5,Bg3,Nf6,Nc5,Qc8,Re1,O-O,Ne5,Nb4,Ne4,Qxc2,Nxf6+,Bxf6,Qh5,Bg7,Nd7,Nxd3,Rxe7,Rae8,Rxe8,Rxe8,Rf1,Re7,Nf6+,Bxf6,Qxh6,Qe2,Qxf6', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/Wbtbf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBVxM', 'Rapid', 'Aprilclaros', 1950, 'stanley1809', 1895, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,c3,dxc3,Qb3,Qf6,Kd1,Nd4,Nxd4,Qxd4+,Kc2,Qxe4+,Bd3,Qxg2,Re1+,Be7,Nxc3,c6,Bf4,Qxf2+,Re2,Qxf4,Rae1,d5,Nxd5,cxd5,Qxd5,Be6,Bb5+,Kf8,Rxe6,fxe6,Qxe6,Rd8,Rf1,Rd2+,Kb1,Rf2,Qc8+,Kf7,Bc4+,Kg6,Qe8+,Kh7', 'Bd3+,Qf5,Bxf5+,Rxf5,Rxf5', 'https://lichess.org/training/wBVxM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBWBE', 'Rapid', 'h6HuXu', 1668, 'mario1979', 1687, 'd4,d5,e4,c6,Nc3,e6,Bf4,Bd6,e5,Bb4,Qg4,g6,Bd2,Nd7,a3,Ba5,b4,Bb6,Na4,Bc7,Bg5,f6,exf6,Ndxf6,Qh4,h6,Nf3,Kf7,Ne5+,Kg7,Bd3,hxg5,Qxg5,Ne4', 'Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/wBWBE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wbxS5', 'Blitz', 'FM Morgran', 2375, 'debaisieux', 2254, 'e4,e5,Nc3,Nc6,g3,Nf6,Bg2,Bb4,Nge2,d6,a3,Ba5,b4,Bb6,Na4,O-O,O-O,Nd4,Nxb6,axb6,Bb2,Nxe2+,Qxe2,Be6,d4,Nd7,f4,f6,Rad1,Qe7,fxe5,fxe5,d5,Bf7,Bh3,Bg6,Be6+,Kh8,Qg4,Nf6,Qh4,Bxe4,Rxf6,Qxf6,Qxe4,Qf2+,Kh1,Rf3,Bg4,Re3,Qg2', 'Re1+,Rxe1,Qxe1+,Qg1,Qe4+', 'https://lichess.org/training/wbxS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBz4N', 'Rapid', 'arquinemesis1120', 1718, 'Vinittivs', 1744, 'd4,d5,Nf3,g6,c4,Bg7,e3,Nf6,Nc3,O-O,Be2,c6,O-O,Bf5,Nh4,Be4,Nf3,Nbd7,Nxe4,Nxe4,Qc2,Nb6,c5,Nd7,a4,a5,Bd2,e6,Ne1,h5,g3,h4,Ng2,h3,Nf4,Ng5,Bg4,Nf6,Nxh3', 'Nxg4,Nxg5,Qxg5', 'https://lichess.org/training/wBz4N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wBZEA', 'Rapid', 'MATAJACA', 1711, 'jfce4', 1758, 'e4,c5,Nf3,d6,h3,Nf6,e5,dxe5,Nxe5,a6,Bc4,e6,Qf3,Qe7,O-O,Nbd7,Nxd7,Qxd7,Nc3,Be7,Ne4,O-O,b3,b5,Bd3,Bb7,Bb2,Kh8,Qg3,Nh5,Qg4,Nf6,Nxf6,Bxf6,Bxf6,gxf6,Qh4,f5,Qf6+,Kg8,Rad1,Qd5,Qg5+,Kh8,c4,bxc4,Bxc4,Qd4,Qe3,Rg8,Qxd4+,cxd4,g3,f4,Kh2,Rg7,Rg1,Rag8,Rde1,f3,Re5,Rg5,Rxg5,Rxg5,Re1,Rg6,Bd3,Rf6,Re5,h6,Be4,Bc8,Rc5,Bd7,Rc7,Bb5,Bc6,Be2,Ra7,e5,Be8,Kg7,h4,Bd3,g4,e4,g5,hxg5,hxg5,Rf4,Kg3,Rf5,Kg4', 'e3,dxe3,dxe3', 'https://lichess.org/training/wBZEA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wc05K', 'Classical', 'hkanylmzz', 1686, 'ArnavT', 1655, 'e4,e6,e5,d6,f4,dxe5,fxe5,Nc6,Nf3,Nge7,d4,Nf5,Bb5,Bd7,c3,a6,Ba4,Nh4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/Wc05K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wc1v6', 'Rapid', 'guripingui', 1611, 'wjadro3', 1639, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,e5,Nf5,d6,Qf3,Bxf5,exf5,Be7,Qxb7,Nd7,Bb5,Nf6,Bg5,Qa5+,Nc3,Rb8,Bxd7+', 'Nxd7,Qd5,Qxd5,Nxd5,Bxg5', 'https://lichess.org/training/wc1v6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wC45V', 'Rapid', 'ChrisCsu', 1650, 'Knorpov', 1764, 'e4,c5,Nf3,Nc6,Nc3,e6,Bb5,Nf6,d3,a6,Ba4,b5,Bb3,d5,exd5,Nxd5,Nxd5,exd5,a3,Be7,Qe2,O-O,O-O,Bb7,Ba2,Re8,b4,cxb4,axb4,Bxb4,Qd1,Bc3,Rb1,Nb4,Bb3,a5,Bd2,d4,Bxc3,dxc3,Ra1,a4,Ba2,Nxa2,Rxa2,Bd5,Ra1,b4,Re1,b3,Rxe8+,Qxe8,Qe1,Qc6,Nd4,Qb7,Rxa4,Kf8,Rxa8+,Qxa8,Nxb3,Bxg2,Qxc3,Bh3,Qc5+,Kg8,Qg5,h6,Qg3,Be6,Nd4', 'Qa1+,Kg2,Qxd4', 'https://lichess.org/training/wC45V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wc8D6', 'Rapid', 'mrturkmen', 1537, 'Xitala', 1544, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,c3,Bc5,d4,exd4,cxd4,Bb6,e5,Ne4,O-O,d5,exd6,Qxd6,Re1,Bf5,Nc3,Qe7,Qd3,O-O,Nxe4,Rfe8,Bd5,Nb4,Bxf7+,Qxf7,Qb1,Qe7,Ne5,Nc6,Bf4,Nxe5,Bxe5,Rad8,f3,Bxd4+', 'Bxd4,Rxd4,Nf6+,Qxf6,Rxe8+', 'https://lichess.org/training/wc8D6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WcA49', 'Rapid', 'Twojnajgorszyruchd4', 1851, 'Your__Father', 1843, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,c5,Nf3,cxd4,Nxd4,Nc6,O-O,Nge7,Be3,Nxe5,Nxe6,fxe6,Qb5+,N5c6,Rad1,Rb8,f4,a6,Qa4,Nf5,Bf2,Be7,Ne4,O-O,Ng5,Bxg5,fxg5,Qxg5,Qb3,Ne5,Bc5,Nh4,g3,Rxf1+,Rxf1,Nf5,Qb6,h5', 'Qxe6+,Nf7,Rxf5,Qxf5,Qxf5', 'https://lichess.org/training/WcA49');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WcaUi', 'Blitz', 'ujk', 1828, 'slimchess2000', 1831, 'e4,g6,d4,Bg7,f4,e6,Nf3,Ne7,Bd3,a6,c4,d6,e5,Nd7,Nc3,b6,O-O,Bb7,Qc2,O-O,Ne4,d5,cxd5,Nxd5,Neg5,Nb4,Qb3,Nxd3,Qxd3,c5,Be3,h6,Nxe6,fxe6,Qxg6,Bxf3,Rxf3,Qe7,f5,exf5,Bxh6,cxd4,Rg3,Nxe5,Qxb6,Rf7,Re1,Nf3+,Rxf3,Qxe1+,Rf1,Bxh6,Rxe1,Be3+,Kf1,f4,Qg6+,Kf8,Rd1,Rd8,Rd3,Rdd7,Qxa6,f3,gxf3,Rxf3+,Ke1,Rdf7,Qa8+,Kg7,Qe4', 'Rf1+,Ke2,R7f2#', 'https://lichess.org/training/WcaUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wcbIF', 'Rapid', 'omaration', 1771, 'art8nik', 1837, 'e4,e5,f4,exf4,Nf3,Bc5,d4,Bb6,Bxf4,Nf6,Bg5,h6,Bh4,d6,Nc3,Bg4,Nd5,Nbd7,Qd3,O-O,Be2,Qc8,Nxf6+,Nxf6,Bxf6,gxf6,O-O,Kg7,Nh4,Rg8,Nf5+,Kf8,Bxg4,Rxg4,Nxh6,Rg6,Nf5,c5,Nxd6,Qg4,Qf3,cxd4,Qxg4,Rxg4,Rxf6,d3+,Kh1,dxc2,Rc1,Ke7,Rh6,Rg6,Rxg6,fxg6,Nc4', 'Rd8,g3,Rd1+', 'https://lichess.org/training/wcbIF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wcc08', 'Rapid', 'abdulkerim1958', 2193, 'biala', 2293, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,Be2,O-O,O-O,d5,exd5,Nxd5,Nxd5,Qxd5,Nxc6,Qxc6,c3,e5,Qb3,Be6,Qc2,f5,f3,Rfd8,b3,b5,Rad1,a5,h3,Rac8,Rxd8+,Rxd8,Rc1,a4,c4,axb3,axb3,bxc4,Bxc4,Bxc4,Qxc4+,Qxc4,bxc4,Rc8,c5,Rc6,Kf1,Kf7,Ke2,Ke6,Kd3,Kd5,Kc3,f4,Rd1+,Ke6,Bf2,e4+,Kc4,e3,Be1,Bf8,Bb4,Rc8,Rd4,g5,h4,h6,Re4+,Kf5,hxg5,hxg5,Rd4,Ke6,Re4+,Kf5,Kd5,Rd8+,Kc6,Rd1,Re8,Bg7,Kb5,Be5,c6,e2,Rxe5+', 'Kxe5,c7,Rc1', 'https://lichess.org/training/wcc08');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wcdhJ', 'Rapid', 'trXXble', 1766, 'FFera', 1816, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Nc3,a6,Nf3,Qa5,Bd3,d6,O-O,O-O,Bd2,Qc7,Ne2,Nc6,Ng3,d5,exd5,Nxd5,Re1,b5,h3,Bd6,Ne4,Nf4,Bf1,Bb4,c3,Ba5,Qc2,Ng6,Bd3,Bb7,Neg5,Nce7,h4,h6,Bxg6,Nxg6,Nh3,Bxf3,gxf3,Nxh4,Qe4,Nf5,Rad1,Qe7', 'Qxf5,exf5,Rxe7', 'https://lichess.org/training/wcdhJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WcE9t', 'Rapid', 'maxiaragon1239', 1712, 'DenzelGabriel', 1728, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,f4,Bc5,c3,Nxe5,d4,Nxe4,dxc5,Qh4+,g3,Nxg3,hxg3,Qxh1,fxe5,O-O,Bd2,f6,Qg4,fxe5,Bf4,exf4,gxf4,d6,Qd1,Bh3,Kd2,dxc5', 'Bc4+,Kh8,Qxh1', 'https://lichess.org/training/WcE9t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wcf91', 'Blitz', 'Kvitok2005', 1601, 'Dmitriy30051977', 1563, 'e4,e5,Bc4,Qf6,Qf3,Qe7,Nc3,c6,Nge2,Nf6,h3,d6,d4,exd4,Nxd4,c5,Nf5,Bxf5,Qxf5,Nc6,Bg5,Nd4,Bxf6,gxf6,Qd5,Nxc2+,Kd2,Nxa1,Qxb7,Rd8,Nd5,Qxb7,Nxf6+,Ke7,Nd5+,Kd7,Rxa1,Qxb2+,Ke3,Qxa1,Kf3,Qd4,Bb5+,Ke6,Nc7+,Kf6,Nd5+,Kg7,g3,Qd2,Be2,Qxa2,h4,f6,Nf4,Qa3+,Kg2,Re8,Bh5,Rb8,Ne6+,Kh6,g4,Rg8,f3,f5,exf5,Qb2+,Kg3,Bg7', 'g5+,Kxh5,Nf4#', 'https://lichess.org/training/wcf91');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WCfnV', 'Rapid', 'Amole', 2197, 'impathak', 2192, 'e4,c5,d4,cxd4,Nf3,g6,Qxd4,Nf6,e5,Nc6,Qd1,Nxe5,Nc3,Qc7,Nb5,Qb8,Bf4,d6,Be2,Bg7,O-O,O-O,Nc3,Nc6,Qd2,Rd8,h3,Bd7,Bc4,Qc8,Ng5,Rf8,Rfe1,Ne5,Bb3,h6,Bxe5,hxg5,Bh2,g4,Rxe7,gxh3,Qxd6,Bc6,Be5,hxg2,Bxf6,Qh3,Qh2', 'Qxh2+,Kxh2,Bxf6', 'https://lichess.org/training/WCfnV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wcGT7', 'Rapid', 'Bankmaster', 2244, 'klydethegreat', 2173, 'e4,e5,Nc3,d6,f4,exf4,Nf3,Be7,Bc4,Bh4+,g3,Be7,d4,Nf6,Bxf4,O-O,O-O,Bg4,Be2,Nc6,e5,dxe5,dxe5,Nh5,Nd5,Nxf4,gxf4,Bc5+,Kh1,Ne7,c4,c6,Nxe7+,Qxe7,Qc2,Bh3', 'Ng5,g6,Nxh3', 'https://lichess.org/training/wcGT7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WcJ7h', 'Rapid', 'ilya_k', 2070, 'no_one_on_earth', 2066, 'e4,b6,d4,Bb7,Bd3,e6,c4,Bb4+,Nc3,Ne7,Nf3,O-O,O-O,d6,Bg5,f6,Be3,f5,e5,f4,Bd2,Nd7,a3,Bxc3,Bxc3,dxe5,Nxe5,Nf5,Qg4', 'Nxe5,dxe5,Qxd3', 'https://lichess.org/training/WcJ7h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wcJFW', 'Rapid', 'pyro_flake', 1797, 'Etibar23', 1775, 'e4,d6,Nf3,Bg4,h3,Bh5,g4,Bg6,Nc3,e6,h4,h6,h5,Bh7,d4,Nd7,Bd3,Be7,e5,dxe5,Bxh7,Rxh7,dxe5,Bc5,Qd3,Rh8,Be3,Qe7,O-O-O,O-O-O,Rhe1,Bb4,a3,Bxc3,Qxc3,Kb8,Rd3,Nb6,Red1,Nd5,Qd2,Rc8,c4,Nxe3,Rd7,Qe8,fxe3,Ne7,Qb4,Nd5,cxd5,Qxd7,dxe6,Qxe6,Nd4,Qe8,Kb1,Qf8,Qb5,c6,Qb3,Qe7,Rc1,Qc7,Nc2,Rhe8,Nb4,Re6', 'Na6+,Ka8,Nxc7+', 'https://lichess.org/training/wcJFW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WCK8i', 'Rapid', 'birgili1039449', 1714, 'pedroabreu', 1692, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,c3,e6,d4,Nxf4,Bxf4,cxd4,O-O,Bc5,cxd4,Nxd4,Qh5,g6,Qh6', 'Nf5+,Kh1,Nxh6', 'https://lichess.org/training/WCK8i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WCkhq', 'Blitz', 'vledieu', 1661, 'lazababic60', 1945, 'd4,d5,Bf4,c5,e3,cxd4,exd4,Nc6,c3,Nf6,Nf3,e6,Ne5,Bd6,Bd3,a6,O-O,h6,Nd2,Bxe5,dxe5,Nd7,Nf3,O-O,Qc2,f6,Bh7+,Kh8,Qg6,fxe5,Bxh6,gxh6,Qxh6,Qf6', 'Bg6+,Kg8,Qh7#', 'https://lichess.org/training/WCkhq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WCKLn', 'Blitz', 'rs1967', 2183, 'jirivraz', 2036, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,a6,Be3,c5,Qg4,Qb6,O-O-O,h5,Qg3,cxd4,Bxd4,Qc7,Nf3,Nc6,Bf2,g6,Be2,b5,Ng5,Nc5,Rxd5,exd5,Nxd5,Qa7,Nf6+,Ke7,Rd1,Bg7,Qc3,Nb3+,Qxb3,Be6,Qxe6+,fxe6,Bc5+,Qxc5', 'Rd7+,Kf8,Nxe6#', 'https://lichess.org/training/WCKLn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wCLUC', 'Rapid', 'azzilal', 2033, 'tronc30', 1981, 'd4,d5,Nf3,Nf6,Bf4,c5,e3,Nc6,c3,e6,Qa4,a6,Bb5,Bd7,Bxc6,Bxc6,Qc2,cxd4,cxd4,Bb4+,Nc3,Ne4,O-O,Nxc3,bxc3,Bb5,Rfc1,Ba5,Nd2,Rc8,Qb2,O-O,a4,Bc6,Nb3,Re8,Nxa5,Qxa5,h3,Bxa4,Qxb7,Rxc3', 'Rxc3,Qxc3,Rxa4', 'https://lichess.org/training/wCLUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WcNij', 'Rapid', 'espervanbaar', 2257, 'xxxxskaroupka', 2266, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ngf3,cxd4,cxd4,Qb6,O-O,Nxd4,Nxd4,Qxd4,Nf3,Qb6,Qa4,Be7,Be3,Qd8,Qg4,g6,Bh6,Nc5,Bc2,Bd7,Ng5,Bf8,Bxf8,Kxf8,Rac1,Rc8,b4,Na4,Qf4,Qe7,Bxa4,Rxc1,Rxc1,Bxa4,Rc7,Bd7,Rxb7,Kg7,Nxf7,Rf8,Rxd7,Qxd7', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/WcNij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wCPDW', 'Rapid', 'pratamariel27', 1692, 'mikozp', 1659, 'd4,d5,e3,Bf5,Nc3,e6,h3,Nf6,Bd3,Bxd3,Qxd3,Bb4,Qb5+,Nc6,Qxb7,Bxc3+,bxc3,Na5,Qb5+,Qd7,Qxa5,O-O,Ba3,Rfb8,c4,Rb7,c5,Rb5,Qd2,Ne4,Qd3,Rab8,Rc1,Qe7,Nf3,Ra5,Ne5,Qe8,O-O,f6,f3,Ng3,Rf2,fxe5,dxe5,Qc6,f4,Ne4,Rf3,Nxc5,Bxc5,Qxc5,Rg3,Rxa2,h4,Rab2,Kh2,a5,h5,h6,Qg6,Qe7,Qxh6', 'Qh4+,Rh3,Qxh3+,Kxh3,gxh6', 'https://lichess.org/training/wCPDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WCPUT', 'Rapid', 'apaa', 1868, 'imanmasoom', 1835, 'b3,d5,Bb2,c5,e3,Nf6,f4,Nc6,Nf3,g6,Bd3,Bg7,O-O,O-O,Qe1,a6,Qh4,Nb4,Ng5,h6,Bxf6,exf6,Nf3,g5,fxg5,fxg5,Nxg5,Nxd3,cxd3,Bxa1', 'Qxh6,Qxg5,Qxg5+', 'https://lichess.org/training/WCPUT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WCQrA', 'Blitz', 'FM dabee', 2584, 'pbl49', 2658, 'd4,Nf6,Bg5,c5,Bxf6,gxf6,d5,f5,c4,Bg7,Qc2,e6,Nc3,d6,e3,Nd7,Nge2,Nf6,Nf4,O-O,Be2,Qe7,h3,a6,g4,b5,gxf5,b4,Ne4,exf5,Nxf6+,Qxf6,O-O-O,Kh8,Nh5,Qe5,Nxg7,Qxg7,Rhg1,Qf6,f4,Bd7,Bd3,a5,Rg5,a4,Rdg1,b3,axb3,axb3,Qxb3,Ra1+,Kc2', 'Ba4,Rxa1,Bxb3+', 'https://lichess.org/training/WCQrA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wcr3U', 'Blitz', 'victor2504', 1952, 'mizunoto', 1908, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,d6,O-O,Be7,c3,Bg4,Re1,O-O,Nbd2,h6,Nf1,Bh5,Ng3,Bg6,Bc2,Nd7,d4,exd4,cxd4,Re8,Nf5,Bf8,g4,Ne7,N3h4,Bh7,Bb3,Nxf5,Nxf5,Bxf5,gxf5,Qh4,Qf3,Nf6,e5,dxe5,dxe5,Qg4+,Qxg4,Nxg4,e6,fxe6,Bxe6+,Kh8,Bf4,Bc5,Bg3,Bb6,h3,Nf6,a4,c6,Be5,Rad8,Rad1,Rxd1,Rxd1,Ne4,Rd7,Nf6,Bxf6,gxf6,Rf7,Rg8+,Kf1,Bd4,b3,Rb8,Rd7,Be5,Ke2,b5,axb5,cxb5,Kf3,a5,h4,a4,bxa4,bxa4,Ba2,Rb4,h5,Rf4+,Ke2,Rxf5,Rd8+,Kg7,Rg8+,Kh7,Ra8,Rxh5,Rxa4,f5,Bb1,Kg7,Ra5,Kf6,Ra6+,Kg5,Ra5,Bf4', 'Rxf5+,Kg4,f3+,Kg3,Rxh5', 'https://lichess.org/training/Wcr3U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WCr7S', 'Blitz', 'topaloB', 2191, 'ghost_2016', 1889, 'e4,c6,d3,d5,Nd2,dxe4,dxe4,e5,Ngf3,Bg4,h3,Bxf3,Qxf3,Nf6,a4,a5,Bc4,Bc5,O-O,O-O,Rd1,Qe7,Nf1,h6,Ng3,Rd8,Bxh6,Rxd1+,Rxd1,gxh6,Nf5,Qf8,Rd8,Qxd8,Qg3+,Kf8', 'Qg7+,Ke8,Qxf7#', 'https://lichess.org/training/WCr7S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wCrA2', 'Rapid', 'turin88', 1613, 'Ravicena1', 1652, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,h6,Bxf6,Bxf6,Nf3,c6,c5,b6,b4,a5,a3,axb4,axb4,Rxa1,Qxa1,b5,Bd3,O-O,O-O,Re8,Ne5,Qc7,f4,Nd7,Nxd7,Bxd7,Qb2,Bd8,Ra1,f5,Qf2,g5,Qg3,Bc8,h4,Qg7,hxg5,hxg5,Ne2,g4,Kf2,Re7,Ra8,Rc7,Kg1,Kh7,Qh2+,Kg8,Qg3,Qh7,Qh2,Qxh2+,Kxh2,Kf7,Kg3,Bf6,Nc1,Bd7,Nb3,Rc8,Ra6,Rh8,Na5', 'Bh4+,Kh2,Bf2#', 'https://lichess.org/training/wCrA2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wCRTo', 'Rapid', 'samarthp42007', 1850, 'Moniselen', 1817, 'd4,Nf6,Nf3,g6,e3,Bg7,Be2,d5,O-O,O-O,Nc3,e6,h3,Nbd7,Nh2,c5,f4,cxd4,exd4,Nb6,Ng4,Nxg4,Bxg4,Nc4,b3,Nd6,Ba3,Re8,Ne2,Ne4,Bf3,Nf6,Ng3,Bd7,Qe2,Rc8,Rac1,Qa5,Bc5,b6,Bd6,Qc3,Be5,Qb2,c4,Qxe2,Nxe2,dxc4,bxc4,Bc6,Bxc6,Rxc6,g4,Rec8,c5,bxc5,dxc5,Rxc5,Rxc5,Rxc5,Rb1,Rc8,Rb7,Ra8,Nd4,Nd5,Nxe6', 'Bxe5,fxe5,fxe6', 'https://lichess.org/training/wCRTo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wcrxv', 'Rapid', 'abba66', 2062, 'Hd_Chorona', 2105, 'e4,Nc6,d4,d5,e5,Bf5,c3,a6,Bd3,Bg6,f4,e6,Nf3,f5,exf6,Nxf6,Ng5,Qe7,O-O,h6,Bxg6+,Kd7,Re1,hxg5,f5,Ne4,fxe6+,Qxe6,Bxe4,dxe4,d5,Bc5+,Be3,Bxe3+,Rxe3,Qd6,Qg4+,Kd8,dxc6,Qxh2+,Kf2,Qf4+,Qxf4,gxf4,Rxe4,bxc6,Nd2,g5,Nb3,Rf8,Rd1+,Kc8,Kf3,a5,Nd4,Kb7,Ne6,Rg8,Rd7,Rac8,Kg4,c5,Nxg5,Rcf8,Rxf4,Re8,Kf3,Rxg5,g4,Rh8,a4,Rh3+,Ke4,Rg6,Rff7,Rxg4+,Kf5,Rg1,Rxc7+,Kb6,Rb7+,Kc6,Ra7,Kd5,Rad7+,Kc4,Rd2,Rf1+,Kg4,Rxf7,Kxh3,Kb3,Kg3,Kxa4,Rd5,Kb5,b3,Rf1,b4', 'axb4,cxb4,Kxb4', 'https://lichess.org/training/Wcrxv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WCS6k', 'Rapid', 'Rolffael', 1820, 'TPrice477', 1671, 'd4,d5,c4,Nc6,cxd5,Nxd4,Qxd4,e6,Nc3,exd5,Qxd5,Qxd5,Nxd5,Bd6,e4,f5,Bd3,fxe4,Bxe4,c6,Nc3,Nf6,Nf3,Bg4,Nd2,O-O,O-O,Be5,Bc2,Nd5,Nxd5,cxd5,h3,Bh5,Bb3,Rad8,Ne4,Be2,Re1,Bc4,Nc5,Rde8,Be3,b6,Nd7,Bxb2,Rad1,Rf5,Bxc4,dxc4,Bd4', 'Rxe1+,Rxe1,Bxd4,Re8+,Kf7', 'https://lichess.org/training/WCS6k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wcSm7', 'Blitz', 'ronch', 1592, 'Richard4', 1593, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Nc6,Bc4,d6,Nf3,Nf6,O-O,Be7,Qe2,h6,Rd1,O-O,e5,Nd7,e6,fxe6,Bxe6+,Kh8,Nd5,Nf6,b3,Bxe6,Qxe6,Re8,Bb2,Kh7,Qf5+,Kg8,Nh4,Nxd5,Qxd5+,Kh8,Qh5,Bxh4', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/wcSm7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wcSq3', 'Rapid', 'Wonderboy79', 1812, 'Dutch_Player', 1889, 'e4,e6,d4,d5,c4,dxe4,Qe2,f5,Be3,Nc6,Nc3,Nf6,O-O-O,Nb4,Qd2,Nd3+,Bxd3,exd3,Qxd3,Bd6,Nge2,Qe7,d5,Ng4,h3,Ne5,Qc2,Nxc4', 'Qa4+,Bd7,Qxc4', 'https://lichess.org/training/wcSq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WctxA', 'Rapid', 'AhmedFischer', 1655, 'Vahagngn', 1668, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,e6,O-O,Nf6,Re1,Be7,Ne5,Bxe2,Qxe2,O-O,d3,h6,Ng4,Nbd7,Bxh6,gxh6,Nxh6+,Kh8,Qf3,Ng8,Qh5,Ndf6', 'Nxf7+,Kg7,Nxd8,Nxh5,Nxe6+', 'https://lichess.org/training/WctxA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WcubQ', 'Rapid', 'HighElfSchnee', 1836, 'owhorvath', 1854, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d4,Bf5,Bg5,Be7,Nc3,O-O,Nge2,c6,O-O,Nbd7,h3,h6,Be3,Ne4,Nxe4,Bxe4,c3,Bg5,Ng3,Bxe3,fxe3,Qg5,Nxe4,dxe4,Qc2,Qxe3+,Kh1,Nf6,Rae1,Qg5,a4,Nh5,Kg1,e3,Rf5,Qh4,Rxe3,Ng3,Rff3,Nh5,Qe2,Nf6,Kh2,Ng4+,Kg1,Nxe3,Rxe3,Qf6,Rf3,Qg6,Bc2,Qg5,Qd3,g6,Rg3,Qc1+,Kh2,Qf4,Bb3,Rae8', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/WcubQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wcuEy', 'Rapid', 'etrussk346', 1739, 'breetak', 1695, 'd4,d5,Nf3,Bf5,e3,c5,c3,Nc6,Bb5,e6,Ne5,Qb6,Qa4,Ne7,Nxc6,Nxc6,O-O,Bd6,h3,a6,Bxc6+,Qxc6,Qxc6+,bxc6,dxc5,Bxc5,b4,Bd6,Nd2,a5,a3,axb4,cxb4,Bxb4,a4,O-O,Nf3,Bc3,Ra3,Bb4,Ra2,Rfb8,Bd2,Bd3,Rfa1,Bc4,Rc2,Bb3,Rb2,Be7,Rab1,Rxa4,Rxb3,Rxb3,Rxb3,Ra1+,Kh2,Bd6+,g3,h6,Bb4,Bc7,Be7,Ra2,Kg2,Rc2,Rb7,Ba5,Rb8+,Kh7,Ne5,Be1,Nd3,Bc3,Rb3,Ba1,Ba3,Bf6,Bb2,Bg5,h4,Bxe3,Ne1,Re2,Kf3,Rxe1,fxe3,Kg6,Bd4,Rc1,g4,c5,Be5,f6,Bd6,e5,Rd3', 'e4+,Ke2,exd3+', 'https://lichess.org/training/wcuEy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wCuTj', 'Rapid', 'eddypollo420', 1776, 'VYSL21', 1771, 'c4,e5,g3,f5,Bg2,Nf6,Nc3,e4,d3,exd3,Qxd3,d6,Bg5,Be7,Nf3,O-O,O-O,Nc6,Nh4,Bd7,Nxf5,Nb4,Qb1,Rb8,Nd5', 'Nfxd5,Nxe7+,Nxe7', 'https://lichess.org/training/wCuTj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wCVdH', 'Classical', 'antonio48', 1794, 'JR08', 1855, 'e4,c5,Nf3,Nc6,c3,g6,d4,Bg7,dxc5,Nf6,Bd3,O-O,O-O,Qc7,Nd4,d6,cxd6,Qxd6,Nxc6,bxc6,Qc2,Ng4,g3,h5,Be2,h4,Bxg4,hxg3,Bxc8,gxh2+,Kh1,Raxc8,Qe2,Bf6,Be3,Kg7,Nd2,Rh8,Nc4,Qc7,Qf3,Rh5,Bd4,Rch8,Ne3,Rh3,Qg2,Qb7,Rab1,c5,Bxf6+,exf6,f3,Qc7,Rf2', 'Rg3,Nf5+,gxf5,Qxg3+,Qxg3', 'https://lichess.org/training/wCVdH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wCvm3', 'Rapid', 'Toquet', 1712, 'Bogdan_Bogdan', 1631, 'd4,d5,e3,e6,Bd3,Nf6,c3,Bd6,f4,O-O,Nd2,c6,Qe2,Re8,Ngf3,Nbd7,Ne5,Bxe5,fxe5,Ne4,Bxe4,dxe4,Nxe4,Qh4+,Nf2,c5,O-O,Rf8,Bd2,f5,exf6,Rxf6,Be1,Rh6,Ng4,Qh5,Rf2,Rg6,Nf6+', 'Nxf6,Qxh5,Nxh5', 'https://lichess.org/training/wCvm3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WCvNH', 'Blitz', 'IM Alexey_Alexeev', 2410, 'guntarsaaa', 2396, 'e4,g6,d4,Bg7,Nc3,d6,Nf3,Nf6,Be2,O-O,O-O,a6,Re1,b5,Bd3,Bb7,h3,c5,dxc5,dxc5,e5,Nd5,Nxd5,Bxd5,c3,Nc6,Bf4,Qd7,a4,c4,Bc2,b4,Qe2,b3,Be4,e6,Rad1,Na5,Bxd5,exd5,Qd2,Rad8,Bg5,f6,e6,Qe7,Be3,Nb7,Nd4,Rc8,Bh6,Nc5,Bxg7,Kxg7,a5,Rfe8,f4,Ne4,Rxe4,dxe4,f5,Qc5,Qe3,Qxa5,Qxe4,Qc7,Nxb3,Qb6+,Nd4,Qxb2,Rb1,Qxc3,Rb7+,Kg8,fxg6,Rcd8,gxh7+,Kh8,Rd7,Rxd7,exd7,Rxe4,d8=Q+,Kxh7,Qd7+,Kg8', 'Qd5+,Kf8,Qxe4', 'https://lichess.org/training/WCvNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WCVnQ', 'Blitz', 'CM tunacem', 2257, 'emdee4sure', 2285, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d6,Bg5,Na6,e3,O-O,Be2,c5,d5,Nc7,O-O,a6,a4,b6,Nd2,Rb8,e4,Bd7,f4,b5,axb5,axb5,e5,Nfe8,exd6,Nxd6,Nde4,Bd4+,Kh1,Nxe4,Nxe4,f6,Bh6,Rf7,cxb5,Bxb5,Bxb5,Rxb5,d6,exd6,Qa4,Rxb2,f5,g5,Ra2,Rxa2,Qxa2,d5,Ng3,Be5,Qa5,c4,Qc5,Rd7,Rd1,Qe7,Qc6,Kf7,Nh5,c3,Bg7,c2,Qxc2,Qd6,Qb3,Qc6,h4,gxh4,Qf3,Ne8,Bh6,Qc2,Qg4,Qe4', 'Qxe4,dxe4,Rxd7+', 'https://lichess.org/training/WCVnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wcvzq', 'Blitz', 'ck208', 1670, 'harshabadger', 1676, 'd4,Nf6,Bf4,e6,Nf3,d5,e3,Bb4+,c3,Bd6,Bg3,Nc6,Nbd2,Ne7,Ne5,Nd7,f4,f6,Nxd7,Qxd7,Nf3,Nf5,Bd3,Nxg3,hxg3,b6,Rxh7,Rg8,Bg6+,Kd8,Nh4,Ba6,Qc2,Qb5,O-O-O,Kc8,Nf5,exf5,Qxf5+,Qd7,Qxd5,Bb7,Qxg8+,Qd8,Qxd8+,Kxd8,Rxg7,Bd5,Rg8+,Bxg8,Rh1,Kd7,g4,Bd5,Rh7+,Kc6,Kb1,Rg8,Bf5,a5,Rh6,Rf8,g3,Kb5,Rh5,Kc6,g5,fxg5,Rxg5', 'Rxf5,Rxf5,Be4+,Kc1,Bxf5', 'https://lichess.org/training/wcvzq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wcwfB', 'Classical', 'SavioCunha', 1765, 'keespr', 1744, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,Ne4,Qb3,c5,a3,Bxc3+,bxc3,b6,e3,O-O,Bd3,d5,cxd5,exd5,Qc2,f5,c4,Bb7,Bb2,Nd7,O-O,Qc7,Nd2,Ndf6,f3,Nxd2,Qxd2,dxc4,Bxf5,Rad8,Qc2,g6,Qxc4+,Kg7,dxc5,gxf5,Rad1,Qxc5', 'Bxf6+,Rxf6,Qxc5,bxc5,Rxd8', 'https://lichess.org/training/wcwfB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WCxBl', 'Rapid', 'baytar52', 1927, 'gector52', 1898, 'e4,c5,a3,Nc6,Nc3,Nf6,h3,d5,exd5,Nxd5,Nxd5,Qxd5,Nf3,e5,Bb5,Bd6,O-O,O-O,d3,a6', 'Bc4,Qxc4,dxc4', 'https://lichess.org/training/WCxBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WcXGk', 'Rapid', 'KarthikeyanG', 1970, 'zolegl', 2015, 'e4,e6,d4,d5,Bd3,c5,c3,Nc6,Ne2,Nf6,e5,Nd7,f4,Qb6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4+,Kh1,Be7,Nc3,O-O', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/WcXGk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wCZ6T', 'Rapid', 'fischeer', 1788, 'manish007', 1783, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Bc4,e6,O-O,Qc7,Nxc6,dxc6,Bb3,b5,c3,Bc5,Qf3,Ne7,Be3,Bxe3,fxe3,O-O,Bc2,Ng6,Nd2,Bb7,Qh3,c5,Nf3,e5,Rad1,Bc8,Qh5,Be6', 'Ng5,h6,Nxe6,fxe6,Qxg6', 'https://lichess.org/training/wCZ6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wcz7i', 'Rapid', 'faraj4444', 1742, 'khalidoooooo', 1743, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,O-O,O-O,Na5,b3,Nxc4,bxc4,Bd4,Nxd4,exd4,Nd2,h6,Bh4,d6,Nf3,c5,Re1,Bg4,h3,Bh5,g4,Bg6,e5,dxe5,Nxe5,Qd6,Qd2,Rae8,f4,Nd7,Bg3,Nxe5,fxe5,Qe6,Qa5,h5,Qxc5,hxg4,Qxd4,gxh3,Kh2,Qc6,Rg1,Qe6,Raf1,Rd8,Qf4,f6,Qe3,fxe5,Rxf8+,Rxf8,Bxe5,Rf5,d4,Qxc4,Rxg6,Qxc2+,Kxh3', 'Rh5+,Kg3,Qxg6+', 'https://lichess.org/training/Wcz7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wD099', 'Rapid', 'EndgameTechnique', 1708, 'ndkvt', 1783, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,Nbd7,Bd3,e5,d5,Nc5,Nge2,a5,Na4,Nxd3+,Qxd3,Nh5,c5,f5,cxd6,cxd6,O-O,f4,Bb6,Qg5,Kh1,Qh4,Kg1,Qg5,Kh1,Ng3+,hxg3,fxg3,Nxg3,Qxg3,Bf2,Qg5,Qa3,Rf6,Nb6,Rb8,Rac1,Bh6,Nxc8,Qh5+,Kg1,Bf4,g3,Bxc1,Rxc1,Qxf3,Qxf3,Rxf3,Nxd6,Rbf8,Rc8', 'Rxf2,Rxf8+,Rxf8', 'https://lichess.org/training/wD099');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wD4K1', 'Blitz', 'zuhairak', 1704, 'Lucasauh', 1699, 'e4,e5,Nc3,Bb4,f4,Nc6,Nf3,d6,a3,Bxc3,bxc3,Bg4,Be2,Bxf3,Bxf3,Nf6,f5,O-O,d3,d5,Bg5,Qd6,exd5,Nxd5,O-O,Nxc3,Qd2,Qd4+,Kh1,e4,f6,exf3,Bh6,fxg2+,Qxg2,g6,Bxf8,Kxf8,Qh3,Qd5+,Kg1,Ne2+,Kf2,Re8', 'Qh6+,Kg8,Qg7#', 'https://lichess.org/training/wD4K1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wd5ju', 'Blitz', 'bogus2013', 1566, 'Mlnski', 1544, 'e4,c5,Nf3,g6,d3,Bg7,Be2,d6,O-O,Nc6,Nc3,Nf6,Bg5,O-O,Qd2,h6,Bxh6,Bxh6,Qxh6,Ng4,Qh4,Kg7,h3,Rh8,Qg3,Nge5,Nxe5,Nxe5,f4,Nc6,f5,Nd4,fxg6,Nxe2+,Nxe2,fxg6,Nf4,Rh6,Rf2,e5,Nd5,Be6,Raf1,Qd7,Kh2,Rah8,Qg5,Bxh3,gxh3', 'Qxh3+,Kg1,Qh1#', 'https://lichess.org/training/Wd5ju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wD6yO', 'Blitz', 'dobill2', 1724, 'imreoir-daois', 1724, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Bd7,Qe2,Nc6,O-O,Nge7,c3,Qb6,Bxc6,Nxc6,d4,cxd4,cxd4,Be7,Nc3,Nxd4,Nxd4,Qxd4,Rd1,Qh4,g3,Qh3,Bf4,O-O,a3,Rac8,Nb1,a6,Nd2,Bb5,Qf3,Rc2,Nb3,Rfc8,Nd4,Rxb2,Rdc1,Rc4,Rxc4,Bxc4,Qc3,Rb6,a4,Bb4,Qc2,a5,Be3,Bc5,Qc3,Bxd4,Qxd4,Rc6,Rb1,Qg4,Rxb7,Qd1+,Kg2,Qxd4', 'Rb8+,Rc8,Rxc8#', 'https://lichess.org/training/wD6yO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wdb93', 'Rapid', 'enteryak', 1883, 'Lukein', 1865, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Bf5,Ng3,Bg6,Bc4,Nf6,Ne5,e6,d3', 'Qa5+,Bd2,Qxe5+', 'https://lichess.org/training/wdb93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WDcnj', 'Blitz', 'nikboja1', 1585, 'makar38', 1567, 'e4,c5,Nf3,e6,Bc4,a6,a3,b5,Ba2,Bb7,d3,Nc6,O-O,h6,h3,g5,Nh2,Be7,f4,Qc7,fxg5,hxg5,Qf3,Nd4,Qxf7+,Kd8,Bb3,Ne2+,Kh1,Ng3+,Kg1,Nxf1,Kxf1,Qxh2,Be3,g4,Bg1,Qe5,Nd2,c4,dxc4,Qxb2', 'Bb6+,Kc8,Qe8+,Bd8,Qxd8#', 'https://lichess.org/training/WDcnj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WddmI', 'Blitz', 'kratos82', 1745, 'CM MarklarMarklar', 2210, 'e4,c5,d3,Nc6,Nf3,e5,Be2,g6,O-O,Bg7,Nc3,h6,Bd2,Nge7,Qc1,d5,exd5,Nxd5,Ne4,b6,Be1,f5,Nc3,Be6,Nb5,a6,Na3,O-O,c3,Nf4,Bd1,Nxd3,Qd2,e4,Nh4,Nxe1,Qxe1,Qxh4,f4,Qxe1,Rxe1,Rfd8,Be2,b5,c4,b4,Nc2,Rd2,Ne3,Bxb2,Rab1,Rad8,Nd5,Bxd5,cxd5,Nd4,Bc4,Rd6,g4,Bc3,Rec1,Kg7,Rxc3,bxc3,Rb7+,Kf6,h4,c2', 'g5+,hxg5,hxg5#', 'https://lichess.org/training/WddmI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wdeiD', 'Blitz', 'CM kekic76', 2435, 'tristan2008', 2307, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,g3,g6,Bg2,Bg7,O-O,O-O,Re1,Bd7,Be3,Nc6,h3,Rc8,Nxc6,bxc6,Qd2,Rb8,b3,Qa5,Na4,Qxd2,Bxd2,Be6,c4,Nd7,Rad1,Rfd8,f4,Kf8,Be3,f5,exf5,Bxf5,g4,Bc2,Rd2,Bxb3,axb3,Rxb3,Bxc6,Nb8,Bd5,Ra3,Nb2,Bc3,Ree2,Bxd2,Bxd2,Rxh3,Be3,Rg3+,Kf2,Rxg4,Nd3,Nd7,Rb2,e5,fxe5,Nxe5,Nxe5,dxe5,Rb7,Rc8,Bh6+,Ke8,Kf3,Rh4', 'Bf7+,Kd8,Bg5#', 'https://lichess.org/training/wdeiD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WdePb', 'Rapid', 'Cooooooorl', 1704, 'Djulius', 1626, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,h6,O-O,Bb4,a3,Bxc3,bxc3,O-O,d4,Nxe4,Bd3,Nxc3,Qd2,exd4,Nxd4,Nxd4,Qxc3,Ne6,Qe5,d6,Qf5,g6,Qh3,h5,Bb2,Nf4,Qf3,Nxd3,Qxd3,Bf5,Qd4,f6,Qd5+,Kh7,Qxb7,Rb8,Bxf6,Rxf6,Qxa7,Bxc2,Rac1,Rb2,Rfe1,Qd7', 'Qd4,Rf7,Qxb2', 'https://lichess.org/training/WdePb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WDf5o', 'Classical', 'Nabetse1957', 1724, 'darayavahus', 1871, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Be2,Bc5,d3,Nc6,c3,h6,b4,Bb6,Bd2,O-O,a3,e5,c4,Bd4,Rb1,Re8,O-O,Bg4', 'Nxd4,Bxe2,Nxe2', 'https://lichess.org/training/WDf5o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wDg6d', 'Classical', 'CHCHJON', 1728, 'catmyledy', 1652, 'e4,d6,d4,c5,c3,Qc7,d5,e5,dxe6,Bxe6,Nf3,h6,c4,Be7,Be2,Nf6,Nc3,a6,O-O,Nc6,b3,Nd4,Nxd4,cxd4,Qxd4,O-O,Nd5,Nxd5,exd5,Bd7,Re1', 'Bf6,Qd3,Bxa1', 'https://lichess.org/training/wDg6d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wDGCQ', 'Rapid', 'ryzan', 1665, 'Roman_Juve', 1688, 'd4,d5,Bf4,Nf6,Nc3,e6,a3,Bd6,Bg5,h6,Bh4,g5,Bg3,Nc6,e3,Ng4,f3,Nxe3,Qe2,Nxd4,Qd2,Nxf1,Qxd4,Nxg3', 'Qxh8+,Ke7,Qxd8+,Kxd8,hxg3', 'https://lichess.org/training/wDGCQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WdJmM', 'Rapid', 'Vash_88', 1746, 'DrRoolite', 1828, 'c3,d5,e3,Bf5,Nf3,e6,Qa4+,c6,c4,dxc4,Qxc4,Nf6,Qb3,Qb6,Qd1,Bd6,Nc3,Nbd7,Be2,O-O,O-O,Rad8,Na4,Qc7,h3,b5,Nc3,a6,a3,c5,b4,c4,Bb2,e5,d3,cxd3,Bxd3,e4,Bxe4,Nxe4,Nxe4,Bxe4,Nd4,Bh2+,Kh1,Nf6,Rc1,Qb7,f3,Be5,fxe4,Nxe4,Kg1,Ng3,Qf3,Qe7,Nc6,Qe6,Nxd8,Rxd8,Bxe5,Nxf1,Bc7,Rc8,Qxf1,Qxe3+,Kh1,h6,Re1,Qxa3,Ba5,Qa2,Rd1,Rc2,Rd8+,Kh7,Qf5+,g6,Qg4,h5,Qg3,Qc4,Qb8', 'Qf1+,Kh2,Qxg2#', 'https://lichess.org/training/WdJmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wDJYX', 'Rapid', 'sivtsev', 1725, 'sekooo87', 1618, 'd4,c6,Nf3,d5,e3,Nf6,c4,Bg4,h3,Bh5,cxd5,cxd5,Qa4+,Nc6,Be2,Qc7,Ne5,e6,Bxh5,Nxh5,Bd2,Bd6,Ba5', 'Qxa5+,Qxa5,Nxa5', 'https://lichess.org/training/wDJYX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wdkMy', 'Blitz', 'Dim07', 1875, 'Bay-cihan', 1862, 'd4,d5,Nf3,Nc6,h3,f6,e3,e5,dxe5,fxe5,Bb5,e4,Nd4,Bd7,Nc3,Nf6,Nxc6,Bxc6,Bxc6+,bxc6,Na4,c5,Nc3,d4,exd4,cxd4,Ne2,d3,cxd3,exd3,Nc3,Qe7+,Be3,Rd8,O-O,Qb4,Qd2,Be7,Bxa7,O-O,a3,Qc4,Rac1,Bd6,Nd1,Qh4,Ne3,Ne4,Qa5,Ng3,fxg3,Qxg3,Ng4,h5,Bf2,Qf4,Qxh5,Rf5,Qh4,Rdf8,Be3', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/wdkMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wdndz', 'Rapid', 'kolaleks', 2158, 'adamsky', 1726, 'Nf3,c5,d3,Nc6,c4,g6,g3,Bg7,a3,e6,Bg2,Nge7,O-O,O-O,Nc3,a6,Ne4,d5,Nxc5,Qb6,Na4,Qc7,Rb1,b5,cxb5,axb5,Nc3,Qb7,e3,b4,axb4,Qxb4,Bd2,Qb6,d4,Ba6,Re1,Bd3,Na4,Rxa4,Qxa4,Bxb1,Rxb1,Rb8,Bc3,Bf8,Qd1,Na5,Bf1,Nec6,Kg2,Bg7,h4,Nc4,Bxc4,dxc4,e4,Qb7,d5,Bxc3', 'dxc6,Qxc6,bxc3,Rxb1,Qxb1', 'https://lichess.org/training/wdndz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wdNvt', 'Rapid', 'emijus', 2213, 'legendaryfatguy', 1990, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Nd7,Bc4,Ngf6,Neg5,e6,Qe2,Nd5,d4,Be7,O-O,O-O,Ne4,c5,c3,cxd4,cxd4,N7f6,Nxf6+,Nxf6,Bg5,b6,Ne5,Qxd4,Nc6,Qc5,Nxe7+,Qxe7,Bd5,Rb8,Bf4,Nxd5,Bxb8,Bb7,Bg3,Qg5,Rac1,Nf4,Qd2', 'Nh3+,gxh3,Qxd2', 'https://lichess.org/training/wdNvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wDOcp', 'Blitz', 'RobertT74', 2304, 'Trappatoni', 2022, 'e4,d6,Nc3,e6,f4,Nf6,Nf3,Be7,d4,O-O,Bd3,c5,d5,exd5,exd5,Re8,O-O,Nbd7,Ne4,Nxe4,Bxe4,Nf8,c4,Bf6,Rb1,Qa5,Bd3,Qxa2,h3,Qa6,g4,h5,g5,Bd4+,Nxd4,cxd4,Qxh5,Qb6,f5,Qb3,g6,fxg6,fxg6,Qxd3,Rxf8+,Kxf8,Qh8+,Ke7,Qxg7+,Kd8', 'Bg5+,Re7,Qxe7#', 'https://lichess.org/training/wDOcp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wDp8E', 'Rapid', 'jeri23', 1632, 'FM steva23', 1852, 'd4,c6,e4,d5,exd5,cxd5,Nc3,Nf6,Bg5,Nc6,Nf3,Ne4,Bb5,Bg4,Nxe4,dxe4,h3,Bxf3,gxf3', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/wDp8E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WDPrh', 'Rapid', 'DrThackery', 1766, 'tioli', 1708, 'd4,Nf6,Bf4,Nh5,Bg3,Nxg3,fxg3,e6,e3,Bb4+,c3,Be7,Bd3,d5,Nf3,c5,O-O,c4,Bc2,Nc6,b3,b5,bxc4,bxc4,Ba4,Bd7,Ne5,Nxe5,dxe5,O-O,Bc2,f6,exf6,Bxf6,e4,Bc6,Qh5,h6,e5,Bg5,Qg6,Be3+,Rf2,Bxf2+,Kh1,Be3', 'Qh7+,Kf7,Bg6+,Ke7,Qxg7+,Rf7,Qxf7#', 'https://lichess.org/training/WDPrh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wDQHe', 'Rapid', 'rybakov-anatolyi77', 1802, 'DerekSmalls', 1654, 'd4,Nf6,Bf4,c6,Nf3,d6,e3,Bg4,h3,Bxf3,Qxf3,g5,Bh2,Bg7,Bd3,O-O,Nd2,Re8,O-O-O,Qa5,Kb1,Na6,Nb3,Qa4,Bxa6,bxa6,g4,Nd5,e4,Nb4,a3,Nxc2,Kxc2,Reb8,e5,Qc4+,Qc3,Qe2+,Rd2', 'Qe4+,Qd3,Qxh1', 'https://lichess.org/training/wDQHe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WDQKp', 'Rapid', 'Drsaktipada', 1686, 'CelesMoor', 1873, 'd4,d5,c4,c6,Nf3,e6,Nc3,Nd7,cxd5,cxd5,Bg5,Ngf6,e3,Bb4,Rc1,O-O,Bd3,Nb6,O-O,Be7,Qc2,a6,Bxf6,Bxf6,Bxh7+,Kh8,Bd3,Nc4,Rfe1,Bd7,Qb3,b5,e4,Na5,Qb4', 'Be7,Qxe7,Qxe7', 'https://lichess.org/training/WDQKp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WDr4A', 'Classical', 'Cryo7', 2059, 'Thrashingknight', 2087, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,e3,d6,Bd3,Nbd7,Nf3,c5,d5,h6,Bh4,a6,O-O,Rb8,Qc2,Ng4,Rab1,Nge5,Nxe5,Nxe5,Be2,Bd7,b4,g5,Bg3,b6,bxc5,bxc5,Rxb8,Qxb8,Rb1,Qc7,h3,f5,f4,Nf7,Bd3,Nh8,Ne2,e6,e4,exd5,exd5,Ng6,Rf1,Ne7,Bh2,g4,Ng3,gxh3,gxh3,Kh8,Kh1,Qa5,Nh5,Bd4,Bg1,Qc3,Bxd4+,Qxd4,Qe2,Rf7,Rf3,Ng6,Qg2', 'Nh4,Qe2,Nxf3', 'https://lichess.org/training/WDr4A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wdRj5', 'Rapid', 'ideatronz', 1973, 'NimzoLaith', 2053, 'e4,e6,f4,d5,e5,c5,c3,Nc6,Nf3,Qb6,d4,Nh6,Na3,cxd4,cxd4,Bxa3,bxa3,Nf5,Bd3,Nfxd4,Be3,Nxf3+,Qxf3,Qa5+,Bd2,Qxa3,O-O,O-O', 'Bxh7+,Kxh7,Qxa3', 'https://lichess.org/training/wdRj5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wDs9Q', 'Rapid', 'nacho8050', 1822, 'Dieno', 1857, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Be2,Bf5,Nf3,Qxd5,O-O,Nc6,d4,Bg4,Be3,O-O-O,c4,Qh5,h3,e5,hxg4,Nxg4,Nh4,f5,d5,Qxh4,Bxg4,fxg4,Nd2,Nd4,Ne4,Be7,Bxd4,exd4,Qxd4,Rhf8,Qxa7,g3,Nxg3,Bd6,Qa8+,Kd7,Qa4+,Ke7,Qc2,Bxg3,Qe2+,Kd6,Qe6+,Kc5,Qe3+,Kd6,Qe6+,Kc5,fxg3,Rxf1+,Rxf1,Qd4+,Kh2,Rd6,Qe7,Kb6,Rf4,Rh6+,Rh4,Rxh4+,Qxh4,Qxh4+', 'gxh4,Kc5,b3', 'https://lichess.org/training/wDs9Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wDtll', 'Bullet', 'AngelAnchampu', 1734, 'loloratatouille', 1642, 'e4,c5,Nf3,d6,Nc3,Nc6,d4,cxd4,Nxd4,g6,Be2,Bg7,Nb3,Nf6,Be3,O-O,f4,Nd7,O-O,b6,Bf3,Qc7,Nd5,Qd8,c3,Nc5,Nd4,Nxd4,Bxd4,Bxd4+,cxd4,Ne6,f5,Nc7,Nxc7,Qxc7,e5,Bb7,f6,e6,Bxb7,Qxb7,Qd2,Kh8,Qh6,Rg8,Rf3,Qe4', 'Qxh7+,Kxh7,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/wDtll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wDTXA', 'Rapid', 'Lichtenauer', 1618, 'Aldeir', 1623, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Nf3,h6,Bh4,O-O,Bd3,Re8,O-O,Be6,Qd2,c5,dxc5,Bxc5,Rae1,Nc6,h3,d4,Na4,Bd6,c3,dxc3,bxc3,Bd5,Nd4,Be5,Nxc6,bxc6,c4,Bxc4,Bxf6,Bxf6', 'Rxe8+,Qxe8,Bxc4', 'https://lichess.org/training/wDTXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wdX3C', 'Rapid', 'czigorin', 1869, 'dfloyd', 1607, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d6,O-O,Nf6,e5,dxe5,dxe5,Ng4,h3,Ngxe5,Re1,f6,Nxe5,Nxe5,Nf3,Qxd1,Raxd1,Bd7', 'Nxe5,fxe5,Rxe5+', 'https://lichess.org/training/wdX3C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WdXOn', 'Rapid', 'alexenth', 1582, 'AugustoGch3ss_w', 1538, 'e4,c5,c3,e6,d4,Qb6,Nf3,cxd4,cxd4,Bb4+,Bd2,Nc6,d5,Bxd2+,Qxd2,exd5,exd5,Nb8,Qd4,Qxd4,Nxd4,Nf6,Bc4,a6,Nc3,b5,Bd3,Bb7,O-O,O-O,Nf5,Nxd5', 'Nxd5,Bxd5,Ne7+,Kh8,Nxd5', 'https://lichess.org/training/WdXOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WdXz1', 'Classical', 'kadirilek', 1696, 'TimofeyNaskalnyy', 1932, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,c6,Bd3,Be7,O-O,O-O,Re1,Bg4,h3,Bh5,Bd2,Nbd7,a4,c5,g4,Bg6,Bxg6,hxg6,g5,Nh5,Nxd5,Bd6,Be3,cxd4,Qxd4,Bc5,Qg4,Ne5,Nxe5,Qxd5,Bxc5,Qxc5,Nd7,Qxc2,Nxf8,Rxf8,Qe2,Qf5,h4,Qh3,Qe4,b6,Rac1,Qd7,Qc6,Qg4+,Kf1,Nf4,Re8,Rxe8,Qxe8+,Kh7,Qe4,Qxh4,Rc4,Qh3+,Ke1,Nh5,Qh4,Qg2,Qg4,Qh1+,Ke2,Qb1,b4,Qb2+,Kf1,Qb1+,Kg2,Qb2,a5,Qe5,axb6,axb6,Re4,Qd5,f3,Qd2+,Kf1,Qh2,Qh4,Qd6,Rd4,Qc6,Qe4', 'Ng3+,Kf2,Nxe4+', 'https://lichess.org/training/WdXz1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('We2i0', 'Classical', 'ajeesh666', 1687, 'wobstertee', 1738, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,Bb4,f4,Bxc3+,bxc3,Nxe4,Bd3,Qh4+', 'g3,Nxg3,Bf2', 'https://lichess.org/training/We2i0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('We2q7', 'Blitz', 'FM jt68', 2326, 'margim', 2245, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Na3,Bf5,Nb5,a6,Nbxd4,Bb4+,Bd2,Nxd4,Bxb4', 'Nc2+,Qxc2,Bxc2', 'https://lichess.org/training/We2q7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wE2v2', 'Rapid', 'Fabb3', 1609, 'USTAGM', 1618, 'e4,e6,Bc4,c5,d4,Nc6,d5,exd5,Bxd5,Qa5+,c3,Nce7,Bb3,Nf6,Qf3,b5,e5,Bb7,Qxb7,Rd8,Qf3,Nfd5,Bxd5,Nxd5,Qxd5,Be7,Nf3,O-O,O-O,d6,e6,fxe6,Qxe6+,Kh8,Bd2,Rde8,c4,Qa6,Bc3,Bf6,cxb5,Qxb5,Qxd6,Bxc3,bxc3,Qb2,Nbd2,Qxc3,Rfc1,Qb2,Nc4,Qb4,Nce5,Rd8,Qa6,Rf6,Qxa7,Rb6,Rab1,Qxb1,Nf7+,Kg8,Qa3,Kxf7,h3,Qf5', 'Qa7+,Kg8,Qxb6', 'https://lichess.org/training/wE2v2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wE5uY', 'Rapid', 'germyy', 1693, 'Kontrolor', 1853, 'd4,f5,Nf3,Nf6,Bg5,e6,e3,Be7,Nbd2,O-O,Be2,c6,O-O,d5,Ne5,Nbd7,f4,Ne4,Bxe7,Qxe7,Nxd7,Bxd7,Nf3,c5,c3,cxd4,cxd4,Rac8,Ne5,Nd6,Bd3,Nf7,Nf3,Rc7,Qd2,Rfc8,Rac1,a6,a3,Qd6,b4,Rxc1,Rxc1,Rxc1+,Qxc1,Qc6,Qc2,Qxc2,Bxc2,Bb5,Kf2,h6,h3,Kf8,g4,g6,gxf5,gxf5,h4,Kg7,Nd2,Kf6,Nb3,b6,Nd2,Nd6,a4,Bc4,Nf3,Nf7,Ne5,Nxe5,dxe5+,Ke7,Ke1,a5,bxa5,bxa5,Kd2,Kd7,Bd3,Bxd3,Kxd3,Kc6,Kd4,Kb6,Kc3,Kc5,h5,Kb6,Kb3,Kc6,Kc3', 'Kc5,Kd3,Kb4,Kd4,Kxa4,Kc5,Kb3,Kd6,a4,Kxe6,a3', 'https://lichess.org/training/wE5uY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wE657', 'Blitz', 'step64', 2243, 'Heriansyah018', 2206, 'd4,Nf6,c4,d6,Nc3,e5,e3,c6,Nf3,Qc7,Be2,Be7,O-O,O-O,b3,a5,Bb2,e4,Nd2,d5,Rc1,Qd8,f3,exf3,Bxf3,Bb4,cxd5,cxd5,e4,dxe4,Ndxe4,Nxe4,Nxe4,Be6,Nc5,Bd5,Nxb7,Ra7,Nc5,Nc6,Nd3,Bxf3,Qxf3,Nxd4,Bxd4,Qxd4+,Kh1,Rd7,Nf4,Qe5,Nd3,Qg5,Nxb4,axb4,Rc4,Rd2,Rxb4,Rxa2', 'Qxf7+,Rxf7,Rb8+,Qd8,Rxd8+,Rf8,Rfxf8#', 'https://lichess.org/training/wE657');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('We8xe', 'Blitz', 'mwafakalhaswa', 2033, 'ssaaeed', 2109, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,c4,dxc4,Bxc4,Bd6,O-O,O-O,Bg5,c6,Nc3,Bg4,Ne4,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Be2,Nd7,Re1,Rad8,Qb3,Nb6,a4,Bxf3,Bxf3,Qxd4,a5,Nd7,Qxb7,Ne5,Bxc6,Rb8,Qc7,Nd3,Rf1,Rxb2,Rad1', 'Rxf2,Rxd3,Rxf1+,Kxf1,Qxd3+', 'https://lichess.org/training/We8xe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wE9Ae', 'Rapid', 'klounTT', 1838, 'camoes', 1712, 'g4,e6,Bg2,Be7,c4,c6,h3,Na6,d3,h6,Nf3,Nf6,Nc3,Nc7,Bd2,d5,cxd5,exd5,O-O,Be6,e3,Qd7,Nd4,g5,Nxe6,Nxe6,Qb3,h5,gxh5,Rxh5,f4,g4,hxg4,Nxg4,Bf3,Nc5,Qd1,f5,e4,Nxd3,exf5,Bc5+,Kg2,Rh2+,Kg3,Bf2+,Rxf2,Ndxf2,Qe2+,Ne4+,Nxe4,Rxe2,Nf6+,Ke7,Nxd7,Rxd2,Bxg4,Kxd7,f6+,Ke8,Re1+,Kf7,Re6,Rg8,f5,Rd3+,Kf4,Rd4+,Ke5,Re4+,Kd6,Rd8+,Kc7,Rxe6', 'fxe6+,Kxf6,Kxd8', 'https://lichess.org/training/wE9Ae');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('we9I8', 'Blitz', 'CM Davigator', 2378, 'Soompon', 2438, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,dxe5,fxe5,Nc6,Be3,Bf5,Nc3,e6,Be2,Be7,Nf3,O-O,O-O,Qd7,Qd2,Rad8,Rad1,f6,exf6,Bxf6,h3,h6,g4,Bh7,b3,Qe7,Qc1,e5,d5,Nd4,Nxd4,exd4,Bxd4,Bxd4+,Rxd4,Rxf1+,Bxf1,Qc5,Qe3,c6,Bg2,Bg6,Rd3,Qa3,Rd2,Qc1+,Kh2,cxd5,Nxd5,Re8,Qf2,Nd7,Nf4,Ne5,Bd5+,Kh7,Nxg6,Nxg6,Re2,Qf4+,Qxf4', 'Rxe2+,Kg3,Nxf4', 'https://lichess.org/training/we9I8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WeBBH', 'Blitz', 'MyLoveL', 1785, 'Newton_Marsman', 1744, 'e4,e5,Nf3,Nc6,c3,Nf6,Qc2,Bc5,Bc4,O-O,O-O,d5,exd5,Nxd5,Bd3,Nf4,Be4,f5,Bxc6,bxc6,Nxe5,Qg5,g3,Nh3+,Kg2,f4,d4,Qh5,Nxc6,Bb7,Qb3+,Kh8,Qxb7,fxg3,fxg3,Qe2+,Kxh3,Qxf1+,Kh4,Be7+,Nxe7,Qf6+,Bg5,Qf2,Qe4', 'Qxh2+,Kg4,h5#', 'https://lichess.org/training/WeBBH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wEcEV', 'Rapid', 'jay36000', 1714, 'hagelsturm', 1729, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,Be3,Qb6,b3,Nc6,O-O,Rc8,c4,cxd4,Nxd4,Nxd4,Bxd4,Qa5,cxd5,Qxd5,Bxa7,Bc5,Bb5+,Ke7,Bxc5+,Rxc5,Qxd5,Rxd5,Nc3,Rxe5,Rad1,Nf6,Rd4,Rc8,Rc4,Rec5,Rd1,Rxc4,bxc4,Rd8,Rxd8,Kxd8,f3,Kc7,Kf2,Kd6,Ke3,h6,Kd4,e5+,Ke3,Kc5,a3,Be6,Ne4+,Nxe4,Kxe4,Bxc4,Bxc4,Kxc4,Kxe5,b5,f4', 'Kb3,Kd6,Kxa3', 'https://lichess.org/training/wEcEV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wEcsm', 'Rapid', 'sampateste', 1646, 'DUTCHMAN_911', 1982, 'e4,c5,f4,Nc6,c3,d5,e5,Bf5,d4,e6,Bb5,Ne7,Ne2,Ng6,O-O,cxd4,cxd4,Be7,Ng3,Bxb1,Rxb1,O-O,f5,exf5,Nxf5,Bg5,Bxg5,Qxg5,Bxc6,bxc6,Qb3,Rfb8,Qa4,Rb6,Nd6,Nf4,Qc2,Rab8,Qf2', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/wEcsm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WeDgl', 'Classical', 'ebcphoenix', 1840, 'RX16', 1792, 'e4,c5,Nf3,e6,d3,Nc6,b3,Nf6,Bb2,d5,exd5,exd5,Be2,d4,O-O,Bd6,c3,Bc7,Na3,a6,Nc2,O-O,cxd4,cxd4,Ncxd4,Nxd4,Nxd4,Be5,Nc6,Bxh2+,Kh1,bxc6,Kxh2,Nd5,Bg4,Qh4+,Bh3,Nf4,Qf3,Bf5,d4,Be6,Qg3,Qh6,Bc1,Nh5,Bxh6,Nxg3,fxg3,gxh6,Bxe6,fxe6,g4,Rad8,Rxf8+,Kxf8,Re1,Ke7,Re4,Rd5,Kg3,Rg5,Re5,Kd6,Kf4', 'Rxe5,dxe5+,Kd5', 'https://lichess.org/training/WeDgl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('weF96', 'Blitz', 'FM Lioni26', 2554, 'FM ricaurte55', 2144, 'e4,a6,Nc3,e5,g3,Nf6,Bg2,Bc5,d3,d6,Nge2,Nc6,h3,O-O,O-O,b5,Kh2,Bb7,f4,exf4,Bxf4,d5,Bg5,dxe4,Bxf6,gxf6,Nxe4,Be7,Nf4,f5,Nc3,Kh8,Qh5,Qd6,Qxf5,Nd4,Qh5,Bxg2,Nxg2,Nxc2,Rac1,Nb4,a3,Nxd3,Rcd1,Rad8,Nf4,Nxf4,Rxf4,Qg6,Qe2,Rxd1,Nxd1,Bd6,Rg4,Qe6,Re4,Qg6,Qf3,f5,Re2,f4,g4,h5,Nf2,Re8,Rxe8+,Qxe8,gxh5,Qe3,Kg2,Bc5,Ng4', 'Qg1#', 'https://lichess.org/training/weF96');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WEFzW', 'Blitz', 'mlibre', 1581, 'uanatol', 1561, 'd4,c6,c4,d5,Nc3,Bf5,Bg5,h6,Bh4,Nf6,e3,e6,h3,Nbd7,g4,Bh7,Bg2,dxc4,e4,Nb6,e5,g5,Bg3,Nfd5,Nge2,Qc7,O-O,Be7,Be4,Bxe4,Nxe4,h5,N2c3,hxg4,hxg4,O-O-O,Nxd5,cxd5,Nf6,Bxf6,exf6,Qc6,Rc1,Nd7,b3,b5,bxc4,bxc4,Rc3,Nxf6,Be5,Rh6,Qf3,Ne4,Rb1,Nxc3', 'Rb8+,Kd7,Qxf7#', 'https://lichess.org/training/WEFzW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wegra', 'Rapid', 'Boshra778811', 1642, 'Quidam81', 1620, 'e4,e5,Nf3,f5,Nxe5,Nf6,exf5,Bc5,d4,Bb6,Bc4,d5,Bd3,O-O,O-O,Bxd4,Nf3,Bb6,Bg5,c6,Nc3,Qd6,h3,Nh5,Nh4,Nf4,Bxf4,Qxf4,Qh5,Rf6,Rae1,Bd7,Ne2,Qd6,b3,Na6,c4,Nc5,Bc2,Ne4,Bxe4,dxe4,Rd1,Qe7,Nf4,Raf8,Rde1,Bxf5,g3,Rh6', 'Nxf5,Rxf5,Qxf5', 'https://lichess.org/training/Wegra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WeIUP', 'Bullet', 'Anatoliannrockkk', 1828, 'patinho2601', 1807, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Bg4,Bf4,Nc6,c3,e5,dxe5,Nd7,h3,Bxf3,Qxf3,Ndxe5,Qe2,f6,Nd2,Be7,O-O-O,Nxd3+,Qxd3,O-O,Nf3,Kh8,h4,d4,c4,Rc8,Bg5,Nb4,Qb1,Rxc4+,Kd2,fxg5,hxg5,Bxg5+,Ke1,Qe8+,Kf1,g6,Nxg5,Qb5', 'Rxh7+,Kg8,Qxg6#', 'https://lichess.org/training/WeIUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WekoB', 'Rapid', 'berkaycalsrr', 2027, 'MikZar', 1932, 'd4,e6,c4,Nf6,Nc3,Be7,e4,d6,d5,exd5,exd5,Nbd7,Bd3,Nc5,Bc2,Bg4,f3,Bd7,b4,Na6,a3,h6,Nge2,c6,Nd4,cxd5,O-O,dxc4,Re1,Nc7,Nf5,Ne6,Bb2,O-O,Nd5,Nxd5,Qxd5,Bc6,Qxc4,Bf6,Bxf6,Qxf6,Qd3,Nf4', 'Ne7+,Qxe7,Qh7#', 'https://lichess.org/training/WekoB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wELEU', 'Rapid', 'Mr_Poleanu', 1855, 'BoniekNur', 1620, 'd4,f5,e3,Nf6,f4,e6,Nf3,d5,c3,Bd6,Bd3,O-O,Nbd2,Nbd7,h4,Ng4,Qe2,c5,Ne5,Ndf6,Ndf3,cxd4,exd4,h6,Ng5,hxg5,hxg5,Bxe5,fxe5,Ne4,Bxe4,dxe4,Bf4,g6,O-O-O,Rf7,Rh4,Qe7,g3,Rh7,Rxg4,fxg4,Qxg4,Bd7,c4,Rc8,b3,b5,c5,a5,Qe2,Bc6,Rd2,a4,b4,Rh4,Qd1,Rh5,d5,Bxd5,Rxd5,exd5,Qxd5+,Qf7,e6,Rh1+,Kb2,Qg7+,Be5,Qe7,Bf6,Rh2+,Ka3,Qc7', 'e7+,Kh7,Qf7#', 'https://lichess.org/training/wELEU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WEley', 'Classical', 'Rickgoorbin', 2154, 'kageshin12', 1925, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,a6,Nf3,O-O,Be2,dxc4,O-O,Nbd7,Bxf6,Bxf6,Bxc4,b5,Bb3,Bb7,Rc1,Rc8,d5,exd5,Nxd5,Bxb2,Rc2,Ba3,Rd2,Bd6,Qb1,Nf6,g3,c5,Ng5,h6', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/WEley');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WeMan', 'Blitz', 'CM Michal248', 2379, 'Gabbertime', 2258, 'Nf3,d5,g3,c6,Bg2,Nf6,O-O,Bg4,d4,Nbd7,c4,e6,Qb3,Qb6,c5,Qxb3,axb3,a6,Nc3,Be7,b4,O-O,Bf4,Rfe8,h3,Bh5,g4,Bg6,Ne5,Nxe5,Bxe5,Nd7,Bg3,Bf6,e3,e5,Ne2,exd4,Nxd4,Bxd4,exd4,Re2,Rfe1,Rae8,Kf1', 'Rxe1+,Rxe1,Bd3+,Kg1,Rxe1+', 'https://lichess.org/training/WeMan');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('weMgh', 'Blitz', 'Ajmalz', 1688, 'Guti14', 1630, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Bf5,Nf3,e6,Bf4,Nc6,Bd3,Bg6,O-O,Bd6,Ne5,Nxd4,Nb5,Ne7,Nxd6+,Qxd6,Bxg6,hxg6,Qxd4,Qd7,Nf3,Rh7,Ng5,Nf5,Qd3,Rh8,Rad1,O-O-O,Qa3,Rh4,g3,Rxf4,gxf4,Nh4,Qxa7,e5,Qa8+,Kc7,Qa5+,Kb8,c4', 'Qg4+,Kh1,Qg2#', 'https://lichess.org/training/weMgh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WemOT', 'Rapid', 'mbeer', 1872, 'CO2N2R', 1741, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Nf6,Re1,Bg4,h3,Bh5,d3,Be7,Nbd2,O-O,c3,d5,exd5,cxd5,Rxe5,Bd6,Re1,Re8,Rxe8+,Qxe8,Nf1,Qc6,Ng3,Bxg3,fxg3,Re8,g4,Bg6,Bf4,Qb6+,Kh2,Qxb2,Ne5,Qxc3,Nxg6,hxg6,Rc1,Qd4,Bxc7,Qf2,Rc2', 'Nxg4+,hxg4,Qh4+,Kg1,Re1+,Qxe1,Qxe1+', 'https://lichess.org/training/WemOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WEMWx', 'Blitz', 'Kishlak_Uruk', 2040, 'FSLima', 1960, 'f4,e6,e3,d5,Nf3,Nf6,g3,c5,Bg2,Nc6,O-O,Bd6,h3,O-O,d3,e5,Nc3,e4,Nh2,Re8,g4,h6,h4,d4,Nb5,exd3,Qxd3,dxe3,Bxe3,Nb4,Qc3,Bb8,Bxc5,Nbd5,Qc4,a6,Nc3,b5,Qd4,Nxc3,Qxd8,Ne2+,Kh1,Rxd8,Bxa8,Ng3+,Kg1,Nxf1,Rxf1,Nxg4,Nxg4,Bxg4,Be3,h5,Bf3,Bf5,c3,g6,Rd1,Rxd1+,Bxd1,Bb1,a3,Bd6,Bf3,a5,Kg2,Kg7,Kg3,Kf6,Bb6,a4,Bc6,Bd3,Kf3,Kf5,Be3,Be7', 'Bd7+,Kf6,Bd4#', 'https://lichess.org/training/WEMWx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WENe2', 'Rapid', 'Vadik10', 2024, 'Carpistadimare', 1971, 'e4,c5,Nf3,e6,Bc4,a6,c3,b5,Bb3,c4,Bc2,d6,O-O,Nc6,d4,cxd3,Qxd3,Nf6,Re1,Qc7,h3,Bb7,Nbd2,b4,c4,Be7,b3,Rd8,Nf1,O-O,Bg5,Ne5,Nxe5,dxe5,Qe2,h6,Bxf6,Bxf6,Ne3,g6,Rad1,Rd4,Ng4,Bg7,Rxd4,exd4,e5,h5,Nf6+,Bxf6,exf6,Qd8,Qe5,d3,Bd1,Qb8,Qg5,Qd8,Bxh5,Kh7,Bd1,Rh8,h4,Kg8,h5,Kf8,hxg6,fxg6,Rxe6,Rg8,Bg4,d2,Qh6+,Kf7,Qh7+,Kf8,Qh6+,Kf7,Qh7+,Kf8,Re7,d1=Q+,Bxd1,Qxd1+,Kh2,Qd6+,g3,Qxf6,Re8+,Kxe8,Qxg8+,Kd7,Qh7+,Kc6,f4,Kb6,Qd7,Qc6,Qd4+,Ka5,Qe5+,Kb6,Qd4+,Ka5,Qe5+,Kb6,Qe3+,Kc7,Qe5+,Qd6,Qg7+,Kb6,Qe5,Qxe5,fxe5,Bc8,Kg2,Kc5,Kf2,Kd4,Kf3,Be6,Kf4,a5,g4,Bxg4', 'Kxg4,Kxe5,Kg5', 'https://lichess.org/training/WENe2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WEppp', 'Rapid', 'ttelle7', 2014, 'Artwell', 1891, 'd4,d5,Bf4,Nf6,e3,g6,h3,Bg7,Bd3,b6,Nf3,O-O,Nbd2,Ba6,O-O,Bxd3,cxd3,c5,dxc5,bxc5,d4,cxd4,Nxd4,Qb6,N2b3,Nbd7,Bg3,e5,Nf3,Ne4,Qxd5,Nxg3,fxg3,Qxe3+,Kh1,Rad8,Rae1,Qb6,Ng5,Nc5,Qc4,Nd3,Nxf7,Rxf7,Qxf7+,Kh8,Rd1,Nf2+,Qxf2,Rxd1,Qe2,Rxf1+,Qxf1,h5,Qd3,Kh7,g4,hxg4,hxg4,Qf2,Qh3+,Kg8,g5,Qf1+,Kh2,Qf4+,Qg3,Qf5,Nd2,e4,Qb8+,Kh7,Qxa7', 'Qf4+,Kh1,Qxd2', 'https://lichess.org/training/WEppp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WEpv8', 'Classical', 'godschild', 1623, 'Moutsa', 1645, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,d6,Bg5,Be7,Bb5,O-O,Nbd2,a6,Bxc6,bxc6,O-O,exd4,cxd4,Bg4,h3,Bh5,Qc2,Rb8,Rac1,Re8,b3,Bxf3,Nxf3,Nxe4,Bxe7,Rxe7,Qxc6,Rb6,Qc4,d5,Qc2,Rh6,Rfe1,Qd6,Qc6', 'Qxc6,Rxc6,Rxc6', 'https://lichess.org/training/WEpv8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WEQaP', 'Blitz', 'reza6311', 1688, 'Beadysai', 1594, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qc3,Nd5,Qc5,e6,Qb5,Bg7,c4,Nc7,Qc5,b6,Qd6,Bb7,Bg5,Bxe5,Nxe5,Qxg5', 'Qxd7+,Kf8,Qxf7#', 'https://lichess.org/training/WEQaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('weqbE', 'Classical', 'bavaresco2001', 1836, 'elevatorcable', 1926, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bg5,O-O,e3,c6,Be2,Nbd7,cxd5,Nxd5,Bxe7,Qxe7,O-O,Nxc3,bxc3,e5,Qc2,e4,Nd2,Nf6,f3,exf3,Rxf3,Bg4,Rf2,Qxe3,Nc4,Qh6,Rxf6,gxf6,Bxg4,Qg5,Bf5,b5,Bxh7+,Kg7,Nd2,Qe3+,Kh1,Rh8,Be4', 'Rxh2+,Kxh2,Rh8+', 'https://lichess.org/training/weqbE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WES1a', 'Blitz', 'spiross', 1774, 'Alexander8_2', 1883, 'e4,c5,Bc4,e6,Ne2,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,d4,Be7,dxc5,Bxc5,Bg5,O-O,Nbc3,Be7,Nxd5,Nxd5,Qxd5,Bxg5,Ng3,Nb6,Qf3,Qc8,c3,Bf6,h3,Qc6,Qg4,Qe6,Qf3,Qd5,Ne4,Qc6,Rad1,Rad8,Rxd8,Rxd8,Nxf6+,Qxf6,Qxb7,Nc4,Qxa7,Nxb2,Rb1,Nd3,Rb8,g6,Rb6,Qxf2+,Kh1,Nf4', 'Rxg6+,hxg6,Qxf2,Rd1+,Kh2', 'https://lichess.org/training/WES1a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WES22', 'Rapid', 'niknik149', 1952, 'Emily29', 1987, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,f4,Nd7,Nf3,Ne7,O-O,g6,c4,h5,Ng5,Nf5,h3,a5,g4,hxg4,hxg4,Nxd4,Qxd4', 'Bc5,Qxc5,Nxc5', 'https://lichess.org/training/WES22');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WES4Z', 'Rapid', 'Rogerpercu', 1649, 'achita', 1739, 'd4,g6,e4,Bg7,Nc3,e6,Be3,b6,Bd3,Nc6,Nf3,Nb4,Bc4,Ne7,a3,d5,axb4,dxc4,Qd2,Nc6,b5,Nb4,Ra4,a5,O-O,O-O,Bh6,Bd7,Bxg7,Kxg7,Ne5,f6,Ng4,g5,f4,h5,Ne3,g4,Nxc4,f5,Ne5,c6,bxc6,Nxc6,Ne2', 'Nxe5,fxe5,Bxa4', 'https://lichess.org/training/WES4Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wesOp', 'Blitz', 'oissa', 1646, 'Welcom370', 1583, 'd4,Nf6,Nc3,g6,e4,d6,Bg5,Bg7,Bxf6,Bxf6,f4,O-O,Nf3,Bg4,Be2,Nc6,d5,Bxf3,Bxf3,Nd4,O-O,e6,Bg4,exd5,Nxd5,c6,Nxf6+,Qxf6,c3,Ne6,Qxd6,Rad8,Qe5,Qh4,Bxe6,fxe6,Qxe6+,Kh8,Rad1,Rxd1,Rxd1,Qxf4,Qe7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/wesOp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Weu0I', 'Rapid', 'Ola_weisser', 1692, 'ChessTormentor', 1690, 'e4,e5,d4,Nf6,dxe5,Nxe4,Bc4,Bc5,Qf3,Ng5,Bxg5,Qxg5,Qxf7+,Kd8,Qf3,Qxe5+,Ne2,Qxb2,O-O,Qxa1,Nbc3,Qb2,Qh5,Qb6,Nd5,Qg6', 'Qh4+,Qf6,Nxf6', 'https://lichess.org/training/Weu0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wEuWw', 'Blitz', 'kirkowski2you', 2260, 'FM Goi_Manne', 2394, 'd4,d5,Nf3,Nf6,e3,c5,Bd3,Nc6,O-O,Bg4,h3,Bxf3,Qxf3,cxd4,exd4,Nxd4,Qf4,Nc6,Nc3,e6,Re1,Be7,b3,O-O,Bb2,e5,Qg3,e4,Bf1,Bd6,Qh4,Be5,Rad1,Qa5,Na4,Bxb2,Nxb2,Qxa2,Rb1,Qa5,Na4,Qd8,b4,Rc8,Nc5,b6,Nb3,Ne5,Nd4,Nc4,Qg3,Nd2,Rbd1,Nxf1,Rxf1,Qc7,Qg5,Qc3,Nf5,Ne8,Ne7+,Kh8,Nxc8,Qxc8,Qe7,Nf6,c4,dxc4,Rc1,b5,Rfd1,a6,Rd6,h6,Rcd1,Kg8', 'Rd8,Qxd8,Rxd8', 'https://lichess.org/training/wEuWw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WeVoC', 'Classical', 'DnlTrvn', 1763, 'MR_TR', 1874, 'c4,Nf6,g3,e6,Bg2,d5,cxd5,exd5,Qa4+,Nc6,Nc3,Be7,Nf3,O-O,O-O,Be6,Ng5,Bd7,Qd1,h6,Nh3,Qc8,Nf4,Bb4,Ncxd5,Nxd5,Nxd5,Bd6,d3,Ne5,Bf4,Bh3,Bxe5,Bxg2,Kxg2,Qd7,Bf4,Rfe8,Bxh6,Qc6,e4,gxh6,Nf6+,Kg7,Nxe8+,Rxe8,Qg4+,Kf8,Qh5,Re6,Rac1,Qd7,Rfe1,Rg6,d4,Kg7,e5,Be7,Rcd1,Qd5+,Qf3,Qxa2,Qxb7,Rb6,Qxc7,Rxb2,Qxe7,Rxf2+,Kh3,Qc2,Rf1,Qf5+,g4', 'Qf3+,Kh4,Rxh2#', 'https://lichess.org/training/WeVoC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wEvr6', 'Blitz', 'Babeknetic', 1699, 'jaded2019', 1733, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,Nf6,Bb5,Bd7,Bxc6,Bxc6,d3,Qb6,O-O,c4+,d4,Nxe4,Nxe4,Bxe4,Kh1,d5,c3,e6,Ne5,Bd6', 'Qa4+,Kf8,Nd7+,Ke7,Nxb6', 'https://lichess.org/training/wEvr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WeW3p', 'Classical', 'SMstar', 1623, 'Abni476', 1684, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Be2,Re8,O-O,c5,d5,e6,dxe6,Bxe6,e5,dxe5,Qxd8,Rxd8,Nxe5,Ne8,Ng4,Nd6,Nh6+,Kf8,Ng4,Nxc4,Bf3,Nc6,Bh6,Bxh6,Nxh6,Nd2,Rfe1,Nxf3+,gxf3,f5,Rxe6,Kg7,Nxf5+,gxf5,h4,Nd4,Re7+,Kf6,Rxh7,Nxf3+,Kg2,Nd4,Rxb7,Rg8+,Kf1,Rg4,h5,Rag8,Ne2,Nxe2,Kxe2,Re4+,Kf1,Rh4,Ke2,Rxh5,Rxa7,Re8+,Kf3,Rh3+,Kg2,Rh5,Ra6+,Kf7,Ra7+,Kf6,Ra6+,Kf7,Rh1', 'Rg8+,Kf3,Rxh1', 'https://lichess.org/training/WeW3p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WEwxp', 'Rapid', 'martinbigi', 1726, 'Lobino', 1758, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,b4,Bb6,a4,a6,a5,Ba7,d3,h6,Bb3,d6,Nbd2,O-O,Nc4,Bg4,O-O,Ne7,Be3,Ng6,Bxa7,Rxa7,Ncd2,Nf4,Qc2,c6,Rfe1,d5,Nxe5,dxe4,Nxg4,Nxg4,Rxe4,Qf6,Rae1', 'Nh3+,gxh3,Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/WEwxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WexbP', 'Classical', 'Lobino', 1793, 'BCS2512', 1752, 'e4,c5,Nf3,a6,Nc3,e6,d4,cxd4,Nxd4,Nf6,e5,Nd5,Nxd5,exd5,Nf3,Be7,Qxd5,d6,Bc4,O-O,exd6,Bxd6,O-O,Be6,Qxb7,Nd7,Bxe6,fxe6,Rd1,Nc5,Qc6,Bxh2+,Kxh2,Qxd1,Qxc5,Rac8,Qe3,Qxc2,Qxe6+,Kh8,Ne5,Qc7,g3,Rce8,Qc6,Qxe5,Bd2,Qxb2,Bc3,Qxf2+,Kh3,Qf5+,g4,Re3+,Kh4,Qf2+,Kg5,h6+', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/WexbP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WEXHF', 'Classical', 'naidhulee9490', 1876, 'SinghTheGabru', 1897, 'd4,d5,c4,c6,Nc3,e6,cxd5,exd5,Nf3,Nf6,Bg5,Be7,e3,O-O,Bd3,Bg4,h3,Bh5,Be2,Nbd7,Rc1,Re8,O-O,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Nd2,Bxe2,Qxe2,Nf6,Rc3,Nd5,Rc5,Qd7,a3,Re6,Rc2,Rae8,Nb3,Rg6,Kh1,Ne7,Nc5,Qc8,Nxe4,Qd7,Nc5,Qc8,Nd3,Nf5,Ne5,Rf6,Ng4,Rg6,Qc4,Nh4,Rg1,h5,Nh2,Qf5,d5,Re4,Qd3,Nxg2,Rxg2', 'Rxg2,Kxg2,Rg4+,hxg4,Qxd3', 'https://lichess.org/training/WEXHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WEy9R', 'Rapid', 'GrandCheikJMLP', 1728, 'akel61', 1764, 'e4,g6,Nf3,Bg7,d4,d6,Bd2,Bg4,Bc3,Nc6,d5,Bxc3+,Nxc3,Ne5,Be2,Nf6,Nxe5,Bxe2,Qxe2,dxe5,Qb5+,Qd7,Qxd7+,Nxd7,O-O,e6,f4,exf4,Rxf4,O-O,Raf1,exd5,Nxd5,c6,Nf6+,Nxf6,Rxf6,Rae8,Re1,Re7,Kf2,Kg7,Rd6,Rfe8,Kf3,h5,h4,Re6,Rxe6,Rxe6,Rd1,Re7,c4,a6,a4,Kf6,b4,Ke5,b5,Rc7,b6,Re7,Rd8,Ke6,c5,Rd7,Rxd7,Kxd7,g4,Ke6,gxh5,gxh5,Kf4,f6', 'a5,Ke7,Kf5,Kf7,e5,fxe5,Kxe5,Ke7,Kf5,Kf7,Kg5', 'https://lichess.org/training/WEy9R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WeYuk', 'Rapid', 'joe073', 1779, 'santros2', 1778, 'e4,d5,exd5,Nf6,c4,e5,Nc3,Bc5,Be2,O-O,Nf3,Re8,O-O,Nbd7,d3,Nf8,a4,a5,b3,c6,dxc6,bxc6,Ba3,Bxa3,Rxa3,Qd6,Ra1,Ne6,Re1,Nc5,Qc2,Bf5,Rad1,Rad8,Nh4,Bg4,Ne4,Ncxe4,dxe4,Qe6,Rxd8,Rxd8,Bxg4,Qxg4,Nf5,Qf4,Ne7+,Kf8,Nxc6', 'Rd2,Qxd2,Qxd2', 'https://lichess.org/training/WeYuk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wEzAm', 'Rapid', 'slmouradian', 2029, 'loser69', 1739, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Qc7,Nc3,e5,Ne2,Nf6,d3,Be7,Ng3,Bd6,Bg5,Be7,Nh4,Bg4,f3,Bc8,Nhf5,O-O,f4,Bxf5,Nxf5,Rad8,Nxe7+,Qxe7,f5,c4,Qf3,cxd3,cxd3,h6,Bh4,Qd6,Rad1,Rd7,Rd2,Nh7,f6,Nxf6,Bxf6,Qxf6,Qxf6,gxf6,Rxf6,Kh7,Kf2,Kg7,Rf5,Re8,Ke3,Ree7,d4,f6,dxe5,Rxd2', 'exf6+,Kf7,fxe7+', 'https://lichess.org/training/wEzAm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Weziw', 'Rapid', 'JuanEnriqueCouso', 1800, 'MrX009', 1833, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,d6,Nf3,O-O,Nc3,Be6,Bxe6,fxe6,Ng5,c6,Nxe6,Qe7,Nxf8,Qxf8,O-O,Nbd7,Qf3,b5,Bg5,Qe8,Bxf6,Nxf6,Ne2,Qg6,Qg3,Qh6,c3,Rf8,b4,Nh5,Qg4,Bb6,a4,Nf6,Qg3,Nh5,Qg4,Nf6,Qe6+,Kh8,Qxd6,g6,Qxe5,Bd8,axb5,Re8,Qh2,cxb5,Rxa7,Qd2,Nf4,Bb6,Rf7,Nxe4,Nd5,Qxd3,Nxb6', 'Qxf1+,Kxf1,Nd2+,Kg1,Re1#', 'https://lichess.org/training/Weziw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wEzS8', 'Rapid', 'prochessbutnot2', 1672, 'Arsnuova', 1680, 'e4,c5,Nf3,Nf6,Nc3,e5,Nxe5,Nc6,Nxc6,dxc6,Bc4,Be6,Bxe6,fxe6,d3,h6,O-O,Bd6,h3,b5,a3,b4,Ne2,c4,dxc4,Nxe4,Qd4,Nc5,axb4,e5,Qd2,Ne4,Qe1,O-O,f3,Nf6,c3,e4,fxe4,Nxe4,c5,Rxf1+,Qxf1,Be5,Qf5', 'Qd1+,Qf1,Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/wEzS8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wf0BI', 'Rapid', 'isam1911', 2221, 'luisito84', 2229, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,Be3,O-O,O-O,b5,a3,Bb7,f3,Nbd7,Qd2,Rc8,Rac1,Nc5,Nxc5,dxc5,Rfd1,Qc7,Qe1,c4,Qf2,b4,axb4,Bxb4,Na4,Qc6,Nb6,Rcd8,Nxc4,Rxd1+,Rxd1,Re8,c3,Bf8,Na5,Qc8,Qf1,h5,Nxb7,Qxb7,b4,a5,bxa5,Qc7,Bb5,Rb8,a6,Qxc3,Qd3,Qa5,a7,Rxb5,Qxb5,Qxb5,a8=Q', 'Qe2,Qa1,Qxe3+', 'https://lichess.org/training/wf0BI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wF0ig', 'Rapid', 'franz1023', 2052, 'jaber79', 1845, 'e4,b6,d4,Bb7,f3,g6,Bd3,Bg7,c3,Nf6,a3,O-O,Ne2,c6,O-O,e5,Be3,Qe7,Nd2,d5,dxe5,Nfd7,f4,Nc5,Bc2,dxe4,Nxe4,Ne6,Nd6,Rd8,Qc1,c5,Nxb7,Qxb7,Ng3,Nc6,h3,Na5,b4,cxb4,cxb4,Nc4,Be4,Qa6,Bxa8,Rxa8,Ne4,Rc8,Qe1,Qb7,Bc1,Nd4,Kh2', 'Nc2,Qe2,Nxa1', 'https://lichess.org/training/wF0ig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wf1xy', 'Rapid', 'chessklas', 1913, 'RolAcosta', 1915, 'e4,e5,Nf3,Nf6,Bc4,d6,d3,Be6,Bxe6,fxe6,Bg5,Nc6,Nc3,Qd7,O-O,O-O-O,a3,h6,Bd2,g5,b4,Nd4,Nxd4,exd4,Ne2,e5,c4,c6,a4,Qg7,b5,c5,a5,h5,Ng3,g4,Nf5,Qg6,g3,Rd7,Qc1,Nh7,Qa3,Be7,Qa4,h4,b6,a6,gxh4,Nf8,Nxe7+,Rxe7,Bg5,Reh7,f4,exf4,Rxf4,Qh5,Raf1,Ne6,Rf5,Nxg5,Rxg5', 'Qxh4,Qc2,Qxg5', 'https://lichess.org/training/wf1xy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WF38f', 'Rapid', 'ahmedomad', 1714, 'dopemree', 1728, 'e4,e5,Nf3,d6,g3,f5,d3,Qf6,Bg5,Qg6,Nc3,Nc6,Nd5,Qf7,Bg2,fxe4,dxe4,Bg4,c3,h6,Be3,O-O-O,O-O,g5,h3,Bxf3,Bxf3,Nf6,c4,Rg8,g4,h5,Qa4,Nxd5,cxd5,Nd4,Bxd4,exd4,Kg2,hxg4,Bxg4+,Kb8,Qxd4,Bg7,Qd2,Rdf8,Rab1,Be5,b4,Bf4,Qc2,Qe7,a4,Re8,Rfe1,Qe5,b5,b6,a5,Rh8,a6,Rh4,Qc6,Rxg4+,hxg4,Kc8,Rh1', 'Qxe4+,Kg1,Qxb1+,Kg2,Qe4+', 'https://lichess.org/training/WF38f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wf7jM', 'Rapid', 'xFADIRx', 1713, 'l328232', 1701, 'd4,d5,Nc3,Nf6,Nf3,e6,Bg5,c5,e4,h6,Bh4,g5,Bg3,Nxe4,Nxe4,dxe4,Ne5,Qxd4,Qxd4,cxd4,Bb5+,Bd7,Nxd7,Nxd7,Bxd7+,Kxd7,O-O-O,Bg7,Rhe1,f5,h4,g4,h5,Rac8,Kb1,Rc6,c3,e5,cxd4,exd4,Bh4,Rhc8,a3,Re6,Bg3,d3,Rc1,Rec6,Bf4,Rc3,bxc3,Bxc3,Red1,Rc6,Bd2', 'Rb6+,Ka2,Rb2+', 'https://lichess.org/training/Wf7jM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wF8sS', 'Classical', 'grand-master1', 2009, 'fateh-alzaela', 2010, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Bd7,Be2,cxd4,cxd4,Nge7,Nc3,Nf5,Na4,Qc7,b4,a6,O-O,Ncxd4,Nxd4,Nxd4,Qxd4,Bxa4,Bd3,Be7,Be3,O-O,Rac1,Qd7,Qb6,Rfc8,Qd4,Bb5,Bxb5,Qxb5,Qg4,Kh8,Qh5,Qe8,f4,g6,Qh3,Rxc1,Bxc1,Rc8,g4,Qg8,Kh1,Rc2,f5,exf5,gxf5,gxf5,Rg1,Qc8,Bh6,Bf8,Bxf8,Qxf8,Qxf5,Rc6,Rf1,Qg7,Qxf7,Qxf7,Rxf7,Rc1+,Kg2,Rc2+,Kg3,Rc3+,Rf3,Rxf3+,Kxf3,Kg7,Ke3', 'Kf7,a4,Ke6', 'https://lichess.org/training/wF8sS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wf91Q', 'Blitz', 'MALINIAK52', 1682, 'MatiPruk', 1700, 'g3,c6,Bg2,d5,f4,Bg4,c3,h6,d4,Nf6,Nd2,e6,Ndf3,Bd6,Ne5,Bxe5,dxe5,Ne4,Nf3,O-O,Nd4,c5,Nc2,c4,Ne3,Bh5,g4', 'Qh4+,Kf1,Qf2#', 'https://lichess.org/training/wf91Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WF9Vf', 'Blitz', 'sipreXY51', 1890, 'Serezha139', 2192, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Nbd7,Bd3,a6,O-O,dxc4,Bxc4,b5,Bd3,Bb7,e4,c5,d5,b4,dxe6,fxe6,Ne2,Bxe4,Bxe4,Nxe4,Nf4,e5,Ne6,Qb6,Qd5,Rb8,Re1,Nef6,Qc4,Bd6,Nxg7+,Kf8,Ng5,Kxg7', 'Qf7+,Kh6,Ne6#', 'https://lichess.org/training/WF9Vf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wFAhO', 'Rapid', 'Spyder8x', 1618, 'blades99', 1788, 'e4,c5,c3,Nc6,Nf3,e6,d4,d5,Nbd2,g6,e5,Bg7,Nb3,c4,Nc5,b6,Na4,Bb7,b3,Ba6,Bg5,Nge7,bxc4,dxc4,Nb2,b5,Be2,h6,Bf6,Bxf6,exf6,Nd5,Qd2,Qxf6,O-O,g5,a4,bxa4,Bxc4,Bxc4,Nxc4,O-O,Rxa4,Rac8,Rb1,a5,Rb3,Rfd8,Nxa5,Nxa5,Rxa5,Ra8,Rxa8,Rxa8,h3,Qe7,c4,Nf6,c5,Qc7,Ne5,Ne4,Qd3,Nxc5,dxc5,Qxe5,g3,Qxc5,Qf3,Ra1+,Kh2,Qd5', 'Rb8+,Kg7,Qc3+,e5,Qxa1', 'https://lichess.org/training/wFAhO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfcGT', 'Rapid', 'Alhat', 1727, 'timurkwinto', 1721, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bg4,Nc3,Nf6,h3,Bh5,Be2,Be7,d4,exd4,Nxd4,Nxd4,Bxh5,Nxh5,Qxd4,O-O,b3,Bf6,Qd2,Bxc3,Qxc3,Nf6,Bb2,Qe7,Rfe1,Rfe8,e5,dxe5,Rxe5,Qd6,Rg5,h6,Rg3,c5,Qf3,Re6,Rd1,Qe7,a4,Rd8,Kh1', 'Rxd1+,Qxd1,Re1+,Qxe1,Qxe1+', 'https://lichess.org/training/WfcGT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFd5V', 'Rapid', 'rerots', 1846, 'duchess', 1908, 'd4,Nf6,Bf4,d6,e3,Nbd7,Nf3,c5,c3,g6,h3,Bg7,Nbd2,O-O,Be2,cxd4,exd4,Re8,O-O,e5,dxe5,dxe5,Be3,b6,Qc2,Qc7,Bc4,e4,Ng5,Ne5,Bf4,Re7,Bh2,Bb7,Bb3,Qc5,Ngxe4,Nxe4,Nxe4,Qc6,Rad1', 'Qxe4,Qxe4,Bxe4', 'https://lichess.org/training/WFd5V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfEfX', 'Rapid', 'alameldine', 1761, 'seilustig', 1817, 'e4,e5,Nf3,d6,Nc3,Nc6,Bb5,Bd7,Bxc6,Bxc6,d3,h6,O-O,Nf6,h3,g5,Be3,g4,hxg4,Nxg4,Qe2,h5,Nh2,Nxh2,Kxh2,Qh4+,Kg1,Rg8,f3,Qg3,Qf2,Qg6,Rfe1,h4,Kf1,Be7,Re2,Bd7,Ke1,h3,gxh3,Bxh3,Kd2,Bg5,Rh1,Bxe3+,Rxe3,Be6,Kc1,a6,Qh4,f6,Ree1,O-O-O,Reg1,Qf7,Rg3,Bxa2,b3,Bxb3,cxb3,Qxb3,Nb1,Qxd3,Rxg8,Rxg8,Qxf6,b5', 'Qe6+,Kb7,Qxg8', 'https://lichess.org/training/WfEfX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wfF0G', 'Rapid', 'zmicier', 1752, 'ALEXINE', 1832, 'e4,c5,Nf3,Nc6,Nc3,g6,Bb5,Bg7,d3,a6,Bxc6,bxc6,Be3,d6,Qd2,Rb8,O-O-O,Be6,Kb1,Qb6,b3,Qb4,Kb2,a5,d4,Nf6,e5,Ng4,h3,Nxe3,Qxe3,cxd4,Nxd4,Bxe5,Nxc6,Bxc3+,Qxc3', 'Qxc3+,Kxc3,Rc8,Kb2,Rxc6', 'https://lichess.org/training/wfF0G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WffOr', 'Rapid', 'Pronay93', 1806, 'Serious1612', 1806, 'e4,e5,f4,exf4,Nf3,Be7,h4,Nf6,e5,Ne4,Bc4,d6,O-O,Bxh4,Nxh4,Qxh4,d3,Ng3,Bxf4,Nxf1,Qxf1,O-O,exd6,Be6,Nd2,Nc6,dxc7,Rac8,g3,Qf6,Bxe6,fxe6,Ne4,Qd4+,Kg2,e5,c3,Qxd3,Qxd3,exf4,Qd5+,Kh8,Qd6,Rf7,gxf4,Rcxc7,Rd1,h5,Ng5,Rfe7,Rh1,Rcd7,Rxh5+,Kg8,Qg6,Rd2+,Kf3,Rde2,Nh7', 'R7e3+,Kg4,Rg2+', 'https://lichess.org/training/WffOr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFhDT', 'Bullet', 'deendyalsingh', 1744, 'Ofvinci', 1758, 'e4,g6,d4,Bg7,Nc3,d6,Nf3,Nf6,Bd3,Nbd7,h3,c5,dxc5,Nxc5,Be3,a6,a3,b5,Qd2,O-O,Bh6,Bb7,Bxg7,Kxg7,h4,Nfxe4,Nxe4,Nxe4', 'Bxe4,Bxe4,Qd4+,Kg8,Qxe4', 'https://lichess.org/training/WFhDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfhpP', 'Rapid', 'Lisiuz', 1799, 'hodorex', 1791, 'd4,d5,c4,Bf5,Nc3,e6,Bf4,a6,e3,Bb4,a3,Ba5,b4,Bb6,cxd5,exd5,Nf3,Ne7,Be2,O-O,O-O,a5,Bd3,axb4,axb4', 'Rxa1,Qxa1,Bxd3', 'https://lichess.org/training/WfhpP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wFIJG', 'Rapid', 'z_huge', 1694, 'KASPAROVCITO', 1674, 'e4,e6,d4,c6,c4,d5,Nf3,dxe4,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/wFIJG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfJR5', 'Rapid', 'Alex-Krasnoyarsk', 1702, 'RawwRaww', 1692, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Nf6,O-O,O-O,Bg5,Bg4,Nbd2,h6,Bh4,Nbd7,h3,Bxf3,Qxf3,c6,Rfe1,Qa5,Re2,Rae8,c3,c5,dxc5,Bxc5,b4,Bxf2+,Qxf2,Qc7,Bxf6,Nxf6,Rf1,Qxc3,Qg3,Rxe2', 'Bh7+,Kxh7,Qxc3', 'https://lichess.org/training/WfJR5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFjsA', 'Classical', 'kungen75', 1999, 'gure19', 1843, 'e4,c5,Nf3,d6,Be2,Nf6,d3,Nc6,c4,e5,Nc3,Be7,Nd5,Nxd5,cxd5,Nd4,Nxd4,exd4,O-O,O-O,f4,f5,Bd2,a5,a4,Bd7,Bf3,b5,b3,bxa4,bxa4,Qb6,Rb1,Qa6,Be2,Rab8,Rxb8,Rxb8,e5,Bc8,Qc2,Bb7,Bf3,Qa8,Qc4,Rd8,e6,Ba6,Qc2,Bb7,Qb3,Rb8,Rb1,Kf8,Qb5,Bd8,Qd7,Be7,Be1,Ba6,Rxb8+,Qxb8,Bh4', 'Qb1+,Kf2,Bxh4+', 'https://lichess.org/training/WFjsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFKEJ', 'Rapid', 'Uros_Delic', 1690, 'pungbrocko', 1688, 'Nf3,b6,e4,Bb7,d3,Nc6,c3,e5,d4,d6,d5,Nce7,Ng5,Nf6,Qf3,a6,h4,Nexd5,exd5,Bxd5,Qg3,h6,Nf3,Ne4,Qg4,h5,Qf5,g6,Qh3,Be6,Qh2,Bg7,Ng5,Bf5,Nxe4,Bxe4,Bg5,f6,Be3,d5,Nd2,d4,cxd4,exd4,Bf4,Qe7,Nxe4,Qxe4+,Be2', 'd3,O-O,dxe2', 'https://lichess.org/training/WFKEJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFkgV', 'Rapid', 'Ziggy88', 1759, 'ersoyersoy', 1779, 'd4,g6,e3,Bg7,Bd3,Nf6,f4,b6,Nf3,Bb7,O-O,d5,Nbd2,Nbd7,Qe2,O-O,Ne5,Nxe5,fxe5,Ne4,Nxe4,dxe4,Bc4,e6,c3,Kh8,Bb3,Qe7,Bc2,f5,exf6,Rxf6,Bd2,Raf8,Rf4,Bh6,Rxf6,Rxf6,Qg4,Qf7,Bxe4,Bxe4,Qxe4,Rf2,Qd3,Qf6,Rf1,Rxf1+,Qxf1,Qe7,Qf3,e5,Qa8+,Kg7,Qxa7,exd4,cxd4,Bxe3+,Bxe3,Qxe3+,Kf1,Qc1+,Ke2,Qxb2+,Kf3,Qc3+,Ke2,Qc4+,Kf3,Qd5+,Ke2,Qxg2+,Kd3,Qf3+,Kc4,Qe2+,Kb3,Qb5+,Kc3,Qc6+,Kd3,Kf6,Qb8,Qf3+,Kc4,Qe2+,Kb4,Qb2+,Kc4,Qxa2+,Kd3,Qb3+,Ke4,Qc2+,Kf3,Qd3+,Kg2,Qe4+,Kg3,Qe3+,Kg2,Qd2+,Kg3,Qxd4', 'Qh8+,Ke6,Qxd4', 'https://lichess.org/training/WFkgV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfKn9', 'Rapid', 'Raphael_2008', 1870, 'mrRanglica', 1861, 'e4,c5,Nf3,Nc6,Bb5,e6,c3,d5,exd5,exd5,d4,c4,O-O,Nf6,Ne5,Bd7,Re1,Be7,Bg5,O-O,Bxc6,bxc6,b3,h6,Bf4,cxb3,axb3,Qc8,Nxc6,Qxc6,Rxe7,Ne4,f3,Nf6,Qd3,Rfe8,Rxe8+,Rxe8,Nd2,a6,Rxa6,Qc8,Bxh6,Bf5,Qf1,Qxc3,Qb5,Qc1+,Nf1,Qxh6', 'Rxf6,Qxf6,Qxe8+', 'https://lichess.org/training/WfKn9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wfni3', 'Classical', 'Vmusael', 1641, 'Dangerzone31', 1753, 'e4,c5,Nf3,a6,a3,d6,Bc4,Nf6,Ng5,e6,d3,Be7,Qf3,Nc6,c3,Qc7,Bf4,O-O,O-O,Ne5,Bxe5,dxe5,Qh3,h6,Nxe6,Bxe6,Bxe6,fxe6,Qxe6+,Kh8,f4,exf4,Nd2,Rad8,Rf3,Nd5,exd5,Bf6,Ne4,Rde8,Qg4,Be5,Qh5,Qd7,Nxc5', 'Qxd5,Kh1,Qxc5', 'https://lichess.org/training/wfni3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFNLv', 'Blitz', 'SirNigel', 1672, 'Aichyy', 1681, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,g3,e6,cxd5,exd5,Bf4,Bd6,e3,Bxf4,exf4,Nbd7,Bg2,O-O,O-O,Re8,Qb3,Qb6,Qa3,Rac8,Na4,Qb5,Ne5,Ne4,Rfd1,Qe2,Nd3,Nd2,Ne5,Nf6,Rac1,Nfe4,Nc3,Qxf2+,Kh1,Nxc3,Rxc3,f6,Nf3,Be4,Rxd2,Bxf3,Rxf2', 'Re1+,Rf1,Rxf1#', 'https://lichess.org/training/WFNLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfNmm', 'Rapid', 'Lexvandewiel92', 1755, 'Pedro35252', 1781, 'e4,c6,d4,d5,e5,Bf5,f4,h6,Nf3,e6,Bd3,Bxd3,Qxd3,c5,Qb5+,Nc6,dxc5,a6,Qxb7,Na5,Qb4,Rc8,Be3,Nc6,Qa3,Nge7,Nbd2,Nf5,Bf2,f6,exf6,Qxf6,Qxa6,Nfe7,c3,g5,Qa3,g4,Nd4,Nxd4,Bxd4,Qxf4,Bxh8,Qe3+,Kd1,Qf2,Kc2,Nf5,Bd4,Nxd4+,cxd4,Qxd4,Qc3,Rxc5,Nb3,Rxc3+,bxc3,Qf2+,Nd2,Qxg2,a4,e5,a5,e4,a6,e3,Rhe1,Qxd2+,Kb3,Bc5,Red1,Qxh2,Rxd5,Qb8+,Kc4,Qf4+,Kb3,e2,Rxc5,Qd2,a7', 'Qd1+,Rxd1,exd1=Q+', 'https://lichess.org/training/WfNmm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wfNOI', 'Rapid', 'guramiso', 1906, 'JonWay', 1739, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,Be7,O-O,O-O,Re1,Nf6,Qe2,Re8,Ng5,Be6,Bxe6,fxe6,Nxe6,Qd7,Qc4,d5,Qxc7,Bd6,Qxd7,Nbxd7,Kf1,Re7,Nd4,Rxe1+,Kxe1,Bxh2,g3,Re8+,Kf1,Re4,c3,Ne5,Kg2,Re1,Nb3,Bg1,d4,Neg4,Bd2,Re2,Kxg1,Nxf2,Na3,N6e4,Re1', 'Nh3+,Kf1,Nxg3#', 'https://lichess.org/training/wfNOI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wFNs3', 'Rapid', 'Zielwasser2005', 2000, 'Shark195', 1941, 'd4,d5,c4,e6,Nf3,c6,e3,Bb4+,Nc3,Nf6,Bd3,dxc4,Bxc4,Nd5,Bd2,O-O,O-O,Qa5,Qc2,Bd7,a3,Bxc3,Bxc3,Nxc3,bxc3,c5,Bd3,h6,Ne5,cxd4,cxd4,Ba4,Qe2,Nd7,Nxd7,Bxd7,Rab1,Bc6,Rb3,Qd5,e4,Qxb3,Bc4,Qxa3,d5,exd5,exd5,Rfe8,Qg4,Ba4,h3,Qb4,d6,Bc6', 'Bxf7+,Kxf7,Qxb4', 'https://lichess.org/training/wFNs3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfO3y', 'Blitz', 'FM Miami03', 2557, 'NM TaranenkoEvhen', 2512, 'c4,e6,g3,d5,Bg2,c5,Nf3,Nf6,cxd5,exd5,d4,Be7,O-O,O-O,Nc3,Nc6,b3,Re8,Bb2,Bg4,dxc5,Bxc5,Na4,Bf8,Re1,Rc8,Rc1,Ne4,Nd4,Nxd4,Qxd4,Rxc1,Rxc1,Bxe2,Qxa7,Ba6,Qd4,Qg5,h4,Qh6,Re1,b5,Nc5,Bxc5,Qxc5,Qd2,Rxe4,dxe4,Qc6,Rd8,Qxa6,Qxb2,Qxb5,e3,fxe3,g6,Kh2,Rd2,Qb7,Qxa2,b4,Rb2,b5,Qa5', 'Qb8+,Kg7,Qe5+,f6,Qxb2', 'https://lichess.org/training/WfO3y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFoHW', 'Classical', 'Ibeabuchi', 1751, 'Lucky_Crazy', 1699, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,Nf6,Bg5,e6,e5,dxe5,Qxd8+,Kxd8,O-O-O+,Ke7,Nf3,Nc6,Rhe1,h6,Bh4,g5,Bg3,e4,Nxe4,Nxe4,Rxe4,Bg7,Bd6+,Ke8,Bb5,Bd7,a4,Rc8,Kb1,a6,Bxc6,Bxc6,Rc4,Bf8,Be5,Rg8,Nd4,Bg7,Bxg7', 'Be4+,Nc2,Rxc4', 'https://lichess.org/training/WFoHW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wFp6j', 'Blitz', 'NM NB4', 2505, 'Vitaliy_87', 2359, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d6,Bg5,O-O,e4,Nbd7,Be2,h6,Be3,e5,d5,Nc5,Bxc5,dxc5,Nxe5,Nxe4,Nxe4,Bxe5,Qd2,b6,Qxh6,Bxb2,Ng5,Bc3+,Kf1,Re8', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/wFp6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFpDd', 'Rapid', 'nigurat', 1926, 'Zoecir', 1725, 'd4,d6,c4,g6,Nc3,Bg7,e4,e6,f4,Ne7,g3,O-O,Bg2,c6,Nge2,b6,O-O,Ba6,b3,Nd7,Ba3,c5,e5,cxd4,Bxa8,Qxa8,Bxd6,Nf5,Bxf8', 'Ne3,Rf2,Nxd1', 'https://lichess.org/training/WFpDd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFq43', 'Rapid', 'Akanimal', 1861, 'otavio04', 1772, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,d4,exd4,Nxd4,Bd7,Nf5,Bxf5,exf5,Nf6,Re1+,Kf8,Bg5,a6,Ba4,b5,Bb3,Qd7,Qf3,Re8,Nc3,Nd4,Qd3,Nxf5,Bxf6,gxf6,Nd5,Kg7,Qf3,Rxe1+,Rxe1,Re8,Rxe8,Qxe8,Qg4+,Kf8,Kf1,Qe6,Nxc7', 'Ne3+,fxe3,Qxg4', 'https://lichess.org/training/WFq43');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFQ5r', 'Rapid', 'asoygeboy', 1785, 'gunsti', 1604, 'c4,e5,Nc3,Nf6,e4,Bc5,d3,c6,Be3,Na6,a3,O-O,Bxc5,Nxc5,g3,a6,b4,Ne6,Nge2,a5,Bg2,axb4,axb4,Ra6,O-O,b6,f4,Nd4,fxe5,Rxa1,Qxa1,Nxe2+,Nxe2,Ng4,h3,Ne3,Rf3,Nxg2,Kxg2,Qg5,Qd4,c5,bxc5,bxc5,Qxc5,Qd2,Re3,Re8,Kf2,Qb2,d4,Bb7,Qd6,Bc6,Ra3,Bxe4,Ra7,Bf5,Qc7,Bxh3,Rb7,Qa1', 'Rb8,Qa8,Rxa8', 'https://lichess.org/training/WFQ5r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfqL6', 'Rapid', 'an2rey75', 1709, 'Pratip1986', 1688, 'c3,d5,Qa4+,c6,g4,Bxg4,Qxg4,e5,Bg2,Nf6,Qg3,Rg8,Qxe5+,Qe7,Qxe7+,Bxe7,Nf3,Ne4,d3,Nc5,Ng5,h6,Nf3,Nbd7,Bh3,O-O-O,Bxd7+,Nxd7,Bf4,g5,Bg3,f5,Ne5,f4,Nxd7,Rxd7,Bxf4,gxf4,Nd2,d4,O-O-O,dxc3,bxc3,Ba3+,Kc2,Rg2,Nc4,Bc5,d4,Be7,Ne5,Rd6,Rdf1,Bh4,Nd3,Rf6,h3,f3,e4,Kd7,Kd2,Bg5+,Ke1,Ke8,Rhg1,Rh2,Rg3,Rg2,Rxg2,fxg2,Rg1,Rf3,Ke2,Rxh3,Rxg2,Ke7,e5,b6,f4,Bh4,f5,h5,a4,b5,axb5,cxb5,Nf4,Rg3,Rh2,Bg5,f6+,Kf7,Nxh5,Rxc3,Kd1', 'Rc1+,Ke2,Rc2+,Kd3,Rxh2', 'https://lichess.org/training/WfqL6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wFr4w', 'Rapid', 'Adrianwastaken', 1677, 'fouvolant08', 1616, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,exd4,Qxd4,Be7,Qxg7,Bf6,Qg3,Be6,Bg5,h6,Bxf6,Qxf6,e5,Qf5,Qg7,O-O-O,Qxh8,Qxc2,Nc3,Bc4,Rd1', 'Rxd1+,Nxd1,Qe2#', 'https://lichess.org/training/wFr4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wfrdG', 'Rapid', 'Dkgwby', 1880, 'Ali-PK', 1835, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Bg5,Be7,Nxe5,Qa5+,Nc3,Qxe5,f4,Qc7,Qf3,d6,Bd3,O-O,O-O-O,Bg4,Qg3,Bxd1,Rxd1,Nbd7,h4,Nh5,Qg4,Ndf6,Qf3,Rfe8,Re1,g6,g4,Ng7,e5,dxe5,fxe5,Nxg4,Qxg4,Bxg5+,Qxg5,Ne6,Qh6,Qe7,Nd5,Qf8', 'Nf6+,Kh8,Qxh7#', 'https://lichess.org/training/wfrdG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfRiJ', 'Classical', 'naxxari', 1852, 'bjuvlob', 1862, 'd4,d6,Bf4,Nc6,e3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg3,Bf5,Bd3,Bxd3,cxd3,Bd6,Nc3,Nge7,Nf3,f6,O-O,Kd7,Rad1,Rad8,d4,Kc8,Nb5,a6,Nxd6+,cxd6,d5,Nb8,Rc1+,Kd7,e4,Rc8,h3,a5,a4,Na6,Nd2,Rc5,Nc4,Nc8,b3,Nb4,f4,Nd3,Rc2,b5,axb5,Rxb5,fxe5,Nxe5,Nxe5+,fxe5,Rf7+,Ne7,Bh4,Re8,Rxg7,Rxb3,Rxh7,a4,Ra2,Rb4,Kh2,Rxe4,g4,Rd4,g5,e4,g6,e3,Kg2', 'Rd2+,Kf3,Rxa2', 'https://lichess.org/training/WfRiJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFsC6', 'Rapid', 'nandi007', 1792, 'ikatawampay', 1829, 'd4,b6,Nf3,Bb7,e3,e6,c4,Nf6,Bd3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O,c5,Nb3,cxd4,Nbxd4,d5,cxd5,Nxd5,Rc1,Nb4,Bb1,N8c6,a3,Nxd4,Nxd4,Na6,Qd3,g6,Rfd1,Nc5,Qe2,Qg5,Nf3,Qg4,h3,Bxf3,Qxf3,Qxf3,gxf3,Rad8,b4,Nd7,Rc7,Ne5,Rxd8,Rxd8,Be4,a5,bxa5,bxa5,Rc5,f5,Bxf5', 'Nxf3+,Kg2,Nh4+', 'https://lichess.org/training/WFsC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wfSdt', 'Rapid', 'GRCC001', 1909, 'Konradium', 1910, 'e4,e6,f4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Nf3,Nxe5,fxe5,Bxb5,d3,Ne7,Na3,Ba6,O-O,Qb6,Qa4+,Nc6,c4,Be7,Nb5,d4,Nbxd4,cxd4,a3,O-O,b4,Nd8,b5,Bxb5,Qxb5,Nc6,Bd2,f6,exf6,Bxf6,Bb4,Qxb5,cxb5,Nxb4,axb4,e5,Nd2,Be7,Rfb1,Bg5,Ne4,Be3+,Kh1,b6,h3,Rf7,Nd6,Rd7,Nc4,Rd5', 'Nxb6,axb6,Rxa8+', 'https://lichess.org/training/wfSdt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wfsQq', 'Blitz', 'onirtuen', 1545, 'PieceOfCheckmate', 1612, 'e4,c5,Bc4,g6,Nf3,Bg7,O-O,d6,Re1,Nf6,e5,dxe5,Nxe5,O-O,d3,Nbd7,Bg5,Re8,Nc3,Nxe5,Rxe5,Nh5,Rxc5,Bf5,Rxf5,gxf5,Qxh5,Rf8,Re1,Qb6,Nd5,Qxb2,Bxe7,Rae8,Nf4,Rxe7,Rd1,Qxc2,Rf1,Qd2,Nd5,Re1,d4,Rfe8', 'Nf6+,Bxf6,Qxf7+,Kh8,Qxf6#', 'https://lichess.org/training/wfsQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wft1m', 'Rapid', 'devveshmaddnani', 1769, 'brunoamontreal', 1739, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Bb5+,Nc6,h3,Bxf3,Qxf3,Nf6,Nc3,e6,Bxc6+,bxc6,Bg5,Be7,O-O,Rb8,Rab1,O-O,Ne2,c5,dxc5,Bxc5,Bxf6,Qxf6,Qxf6,gxf6,Kh1,a5,f4,Rfc8,f5,Be7,fxe6,fxe6,Nf4,Kf7,c3,Rc4,g3,Bd6,Nh5,Be5,g4,Kg6,Kg2,Re4,Kf3,Kg5,Ng3,Bxg3,Kxg3,Re3+,Rf3,Rxf3+,Kxf3,Rc8,Re1,e5,Rd1,Rd8,Kg3,h6,h4+,Kg6,h5+,Kg7,a3,f5,gxf5,Kf6,Rf1,d4,Rd1,d3,Kg4,d2,Kf3,Kxf5,Ke2,Kg5,Rxd2,Rxd2+', 'Kxd2,a4,c4', 'https://lichess.org/training/wft1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFu8B', 'Blitz', 'AbeChess247', 2212, 'LittleBigFrank', 2182, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,b6,Qxb6,Nc3,Bb7,e4,d6,Nf3,g6,Bd3,Bg7,Nd2,O-O,Nc4,Qc7,Bf4,Nh5,Bg3,Nxg3,hxg3,e6,Qg4,exd5,Qh4,h6,exd5,Nd7,O-O-O,Nb6,Ne3,Rae8,Ne4,Qd8,Qh2,Bxd5,Nxd5,Nxd5,Bc4,Nb4,Rxd6,Qa5,Nf6+,Kh8,Qxh6+,Bxh6+', 'Rxh6+,Kg7,Rh7#', 'https://lichess.org/training/WFu8B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wFuBW', 'Rapid', 'Anas963', 1759, 'Don_CM36', 1802, 'e4,c5,d4,cxd4,c3,d3,Bxd3,e5,Nf3,d6,Be3,Bg4,h3,Be6,O-O,a6,Nbd2,Be7,Qa4+,Bd7,Qb4,b5,Qb3,Nf6,Rfd1,O-O,Rac1,Be6,Qc2,Nc6,c4,Nb4,Qb1,Nxd3,Qxd3,Bxc4,Nxc4,bxc4,Rxc4,Qa5,a4,Rfd8,Qc2,d5,Rc7,Bd6,Bd2', 'Qxc7,Qxc7,Bxc7', 'https://lichess.org/training/wFuBW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFuZq', 'Blitz', 'JustJelle', 1501, 'MarihuanaPollo', 1546, 'd4,Nf6,Bf4,g6,e3,Bg7,h3,O-O,Nf3,d5,c4,Nc6,cxd5,Nxd5,Bc4,Nxf4,exf4,e6,O-O,Nxd4,Nxd4,Bxd4,Qd2,Qf6,Nc3,Rd8,Rad1,c5,Ne4,Qg7,Nxc5,Bf6,Qb4,Rxd1,Rxd1,Be7,Qb5,b6,Nd7,Bxd7,Qxd7,Rd8', 'Qxd8+,Bxd8,Rxd8+,Qf8,Rxf8+', 'https://lichess.org/training/WFuZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFv7C', 'Classical', 'Galick_Gun', 1619, 'bradiowave', 1670, 'd4,d5,c4,dxc4,e4,e5,Qa4+,c6,Qxc4,b5,Qd3,exd4,Nf3,Bc5,a4,Ba6,Qb3,bxa4,Rxa4,Bxf1,Rxf1,Nf6,Bg5,h6,Bxf6,Qxf6,Qb7,Qf4,Nxd4,Qxe4+,Kd1,Qxb1+,Ke2,Qe4+,Kd1,Bxd4', 'Re1,Qxe1+,Kxe1', 'https://lichess.org/training/WFv7C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wFV7f', 'Classical', 'rhai05', 1954, 'aminski', 1781, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Nc3,e6,O-O,Be7,d3,O-O,a3,d5,e5,Nd7,Bxc6,bxc6,Bf4,f6,exf6,Nxf6,Re1,Bd6,Bxd6,Qxd6,h3,Bd7,Qd2,Rae8,a4,a5,Ne2,e5,Qxa5,e4,dxe4,dxe4,Rad1,Qxd1,Rxd1,exf3,Ng3,fxg2,Kxg2,Nd5,Qxc5,Nf4+,Kh2,Bxh3,Qxc6,Bg2,Qc4+,Kh8,Rd7,Rf6,Qd4', 'Rh6+,Nh5,Rxh5+,Kg3,Ne2+', 'https://lichess.org/training/wFV7f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wfVDV', 'Classical', 'IvanM77', 1934, 'njswift', 1908, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,c3,e5,d3,Bc5,O-O,O-O-O,Be3,Bxe3,fxe3,f5,Qc2,e4,dxe4,Qxe4,Rac1,Rhe8,Rfe1,Qxe3+,Kf1,Bxf3,Bxf3,Qf4,Kg1,Ne5,Rf1,Rd2', 'Bxb7+,Kb8,Rxf4,Rxc2,Rxc2', 'https://lichess.org/training/wfVDV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFvJL', 'Rapid', 'Fichtelzwerg', 1968, 'Zafira', 1652, 'd3,d5,f4,Bf5,Nf3,e6,h3,Nc6,g4,Bg6,e3,f5,Nbd2,h5,g5,Bf7,Nb3,Bc5,d4,Bb6,c4,dxc4,Bxc4,g6,Bd2,Nge7,O-O,O-O,Qc2,Kg7,Bc3,Kh7,Rad1,a5,a4,Nb4,Qe2,c6,e4,Bc7,exf5,Nxf5,Kg2,Bxf4,Bxe6,Bxe6,Qxe6,Nc2,d5,cxd5,Rxd5,Qe8', 'Rd7+,Qxd7,Qxd7+', 'https://lichess.org/training/WFvJL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfwDs', 'Rapid', 'nikitalebedev2005', 1911, 'Baranov_Ivan2007', 1976, 'd4,d5,Bf4,e6,Nf3,Nf6,e3,Bd6,Bg3,Bxg3,hxg3,Nbd7,Bd3,b6,c4,c5,Nc3,Bb7,Ne5,h6,Nb5,O-O,Nd6,Qc7,Nxb7,Qxb7,Qf3,Nxe5,dxe5,Ne4,Bxe4,dxe4,Qf4,Rfd8,g4,Qd7,O-O,Qc6,f3,exf3,Rxf3,Rd7,g5,hxg5,Qxg5,Qe4,Rg3,Qh7', 'Rh3,Qxh3,gxh3', 'https://lichess.org/training/WfwDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFwHw', 'Rapid', 'LOL_M1CRO', 1913, 'rfmg', 1977, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Be2,Ngf6,Nc3,b5,d4,b4,Nb1,Nxe4,c3,bxc3,Nxc3,Nxc3,bxc3,g6,Bc4,Bg7,dxc5,Nxc5,Bxf7+,Kxf7,Qd5+,Be6,Ng5+,Ke8,Nxe6,Nxe6,Qxe6,Bxc3,Rb1,Rb8,Bg5,Rc8,Bxe7,Qd7,Qxd7+,Kxd7,Bh4,Rhe8,Rfc1,Rb8,h3,Rxb1,Rxb1,Re1+,Rxe1,Bxe1,Kf1,Bc3,Ke2,Ke6,Kd3,Be5,a4,d5,Bd8,Kd6,g3,Kc5,f4,Bg7,g4,Bh6,f5,gxf5,gxf5,Kd6,Kd4,Bf8,h4,h5,Bg5,Kc6,Bd8,Bc5+,Ke5,d4,Ke4,Kd7,Bf6,Be7', 'Bxe7,Kxe7,Kxd4', 'https://lichess.org/training/WFwHw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfwJi', 'Blitz', 'Kvaidan', 2383, 'NM nikonovenik', 2414, 'b3,d5,Bb2,c6,e3,Bf5,d3,e6,Nd2,Nf6,Qe2,Nbd7,e4,Bg6,O-O-O,dxe4,dxe4,Qa5,Kb1,b5,f4,Bb4,f5,Bh5,Ndf3,O-O,h3,exf5,e5,Nd5,g4,fxg4,hxg4,Bg6,Rxd5,cxd5,Nd4,a6', 'Nc6,Qb6,Nxb4', 'https://lichess.org/training/WfwJi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfWV4', 'Rapid', 'Mehioch', 1927, 'rino2003', 1778, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Be7,Bf4,a6,e3,Nbd7,cxd5,exd5,Bd3,O-O,Rc1,c6,O-O,Nh5,Bg3,Nxg3,hxg3,Nf6,Ne5,Nd7,f4,f6,Nf3,Re8,Kf2,Nf8,Rh1,g6,Rh2,Kg7,Qc2,c5,dxc5,Bxc5,Nd1,Ba7,Qc7+,Qd7,Qxd7+,Nxd7,Rc7,Re7,Nd4,f5,Nc3,h5,Nxd5,Bxd4,Nxe7,Bb6,Rc2,Nf6,Rh1,Ng4+,Ke2,Nxe3,Rc3,Ng4,Nd5,Ba7,Rhc1,Be6,Rc7+,Kh6,Ne3,Bxe3,Re7,Bd5,Rcc7,Rh8,Rxe3,Nxe3,Kxe3,Re8+,Kd2,Bxg2,a3,Rd8,Kc3,Ra8,Re7,b5,b4,Rc8+,Kd2,Rd8,Kc3,Rd6,Re8,Rc6+,Kd2,Rd6,Kc3,Bf3,Bc2,Rc6+,Kb2,Rd6,Re7,h4,gxh4,Kh5,Rh7+,Kg4,Rh6,Kxf4,Kc3,Be4,Bxe4,Kxe4,h5,Rc6+,Kd2,Rd6+,Ke2,Ke5,hxg6,Kf6,Kf3,Rd7,Rh7,Rxh7', 'gxh7,Kg7,Kf4,Kxh7,Kxf5', 'https://lichess.org/training/WfWV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wfXKP', 'Rapid', 'Ronak007mistry', 1944, 'mesutozcn', 1968, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,c3,Bd7,d4,exd4,cxd4,Bb6,Nc3,Nf6,Bg5,h6,Bh4,Qe7,Re1,g5,Bg3,O-O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxb5,Nxb5,a6,Nc3,Rhe8,Bxf6', 'Qxf6,Rxe8,Rxe8', 'https://lichess.org/training/wfXKP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WFxmj', 'Blitz', 'Bruce11111', 1600, 'jordan_1', 1530, 'e4,e5,Nf3,d5,exd5,e4,Nc3,exf3,Qxf3,Nf6,Bc4,Bc5,O-O,O-O,d3,c6,dxc6,Nxc6,Be3,Nd4,Bxd4,Bxd4,Rfe1,Bg4,Qxb7,Rb8,Qc6,Rxb2,Ne4,Rxc2,Nxf6+,Bxf6,Bxf7+,Kxf7,Qxc2,Bxa1,Rxa1,Kg8,Qc4+,Kh8,Qxg4,Qxd3,Rd1,Qc2,Rd7', 'Qxf2+,Kh1,Qe1#', 'https://lichess.org/training/WFxmj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WfYHa', 'Rapid', 'Phil_Leap', 1731, 'ZayZay', 1897, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nc3,Bb4,Nf3,d6,d5,exd5,exd5,Nce7', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/WfYHa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wFZxs', 'Blitz', 'sahane-kolonya', 1652, 'shalx', 1661, 'd4,d5,Nc3,e6,Nf3,Nf6,Bg5,Be7,Qd2,h6,Bh4,Ne4,Nxe4,dxe4,Bxe7,Qxe7,Ne5,O-O,e3,c5,c3,cxd4,cxd4,Bd7,h4,Nc6,f4,Nxe5,fxe5,f5,Be2,f4,g4,f3,g5,fxe2,gxh6,g6,Qxe2,a6,h5,Bb5,Qg4,Qb4+,Kd1,Qxb2', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/wFZxs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wg531', 'Blitz', 'harmonie5', 2139, 'beco1954', 1936, 'c4,e5,Nc3,Nc6,g3,Nf6,Bg2,Bc5,e3,d6,Nge2,h6,d4,exd4,exd4,Bb6,h3,O-O,Be3,Bf5,O-O,Qd7,Kh2,Rfe8,a3,Ne4,Nd5,Rab8,b4,a6,c5,dxc5,dxc5,Ba7,g4,Bxg4,hxg4,Qxg4,Ng3,Qh4+,Kg1,Nxg3,fxg3,Qxg3,Bf2,Qg5,Nxc7,Re4,Qf3,Rg4,Rad1,Ne5,Qd5,Rxg2+,Qxg2', 'Nf3+,Kh1,Qh5+,Bh4,Qxh4+,Qh3,Qxh3#', 'https://lichess.org/training/Wg531');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wg6Sx', 'Blitz', 'GiftWind', 1540, 'EVGENYM', 1541, 'e4,e5,Bc4,Be7,d3,Nf6,h3,O-O,Nf3,d6,O-O,a6,a4,Nc6,c3,h6,Ba2,Nh7,b4,Ng5,Nxg5,Bxg5,Nd2,Bxd2,Bxd2,Be6,Bxe6,fxe6,Qh5,Qf6,Rae1,Rad8,Re3,d5,Rf3,Qe7,Rxf8+,Rxf8,Bxh6,gxh6,Qxh6,Qg7,Qxe6+,Qf7,Qg4+,Qg7,Qe6+,Rf7,Qxd5,Kh8,b5,axb5,axb5,Ne7,Qxb7,Qg6,Qxc7,Rg7,g3,Qh5,Kh2,Kh7,b6,Ng6,Qc6,Qg5,b7,Nh4,b8=Q,Nf3+,Kg2,Nh4+,Kh2,Nf3+,Kg2,Nh4+,Kh1,Nf3,Qd5,Qh5,Kg2,Ng5,Qdxe5', 'Qxh3+,Kg1,Nf3#', 'https://lichess.org/training/wg6Sx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wg6vo', 'Rapid', 'VrumVrum', 1814, 'rezapoursh', 1821, 'e4,e5,Nf3,Nc6,Nc3,d6,Bc4,Be6,Bd5,Nge7,Bxc6+,Nxc6,O-O,Be7,h3,O-O,d3,f5,a3,Nd4,Nxd4,exd4,Ne2,c5,Nf4,Bc8,Nd5,Bh4,Bf4,fxe4,dxe4,Be6,Bg3,Bg5,f4,Bxd5,exd5,Bf6,Rb1,Qb6,c3,dxc3,bxc3,Qa5,c4,Qxa3,Bh2,Bd4+,Kh1,b6,Rf3,Qa2,Rc1,Rae8,Rc2,Qa4,Rd2,Qxc4,Rc2,Qa6,f5,Qa5,Bxd6,Re1+,Rf1,Rxd1,Rxd1,Re8,Rcc1,Qa2,Re1,Rxe1+,Rxe1,Qxd5', 'Re8+,Kf7,Rf8#', 'https://lichess.org/training/Wg6vo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wg9uP', 'Blitz', 'Gennadiy89', 1586, 'denisjermain', 1542, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,Ne7,O-O,Nc6,Qc3,Bb4,Qf3,O-O,c3,Ne5,Qe2,Bd6,Bb3,a6,f4,Nc6,e5,Bc5+,Kh1,d6,exd6,Bxd6,f5,Qh4,g3,Bxg3,Qg2,Bd6,f6,g6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/wg9uP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wG9yT', 'Rapid', 'maxezer111', 2322, 'vojindjukic', 2314, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Qe2,Nxe4,Qxe4,Nd7,Bc4,Nf6,Ne5,e6,Qe2,Be7,c3,O-O,d4,c5,Be3,cxd4,Bxd4,Qc7,Bb3,b6,O-O-O,Bb7,Nxf7,Rxf7,Qxe6,Rf8,Be5,Qc5,Bxf6,Bxf6,Rd7,Bc8,Rhd1,Kh8,Qxf7,Rxf7,Rxf7,Bg5+,f4,Bxf4+,Rxf4,g5,Rd8+,Kg7,Rg8+,Kh6,Rf6+,Kh5,Bd1+,Bg4,Bxg4+,Kxg4,h3+,Kg3,Rf3+,Kxg2,Rd3,h5,Kc2,Qc4,Re8', 'Qa4+,Kd2,Qxe8', 'https://lichess.org/training/wG9yT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wGaoT', 'Rapid', 'egerschon', 2102, 'ShapeTheFuture', 2025, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nc6,Nf3,Bg4,h3,Bh5,c3,Bd6,O-O,Qd7,Be2,O-O-O,Nbd2,Nge7,a4,Rhg8,b4,g5,Nh2,Bxe2,Qxe2,Ng6,b5,Na5,Qg4,f5,Qxg5,Nf4,Qh6,Rxg2+,Kh1,Rdg8,Ndf3,R8g6,Qh4,Ne2,Be3,Qg7,Rae1,Nxc3,Bh6,Rxh6', 'Re8+,Kd7,Qd8#', 'https://lichess.org/training/wGaoT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WGDok', 'Bullet', 'jcsampera', 2008, 'Eliobonor', 2029, 'e4,d6,d4,Nf6,Nc3,c6,Nf3,Qa5,Bd3,Bg4,h3,Bh5,Bd2,Qc7,Qe2,e5,dxe5,dxe5,g4,Bg6,Nh4,Nbd7,O-O-O,O-O-O,f3,Bb4,Rhg1,Kb8,Nf5,Rhg8,h4,Nc5,h5,Bxf5,exf5,Nxd3+,cxd3,Rge8,Bg5,Qa5,Bxf6,gxf6,Qc2,Bxc3,bxc3,Rd5,Rge1,Red8,Re4,Rc5,Kd2,Qc7,Ke2,Qd6,Kf2,Ra5,Rb4,Qc5+,Kg2,Ra3,Rdb1,Rd7,Qb2,Rxc3,Rxb7+,Kc8,Rb8+,Kc7,Qb7+,Kd6', 'Qxd7+,Kxd7,R1b7+,Kd6,Rd8#', 'https://lichess.org/training/WGDok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wGGFV', 'Blitz', 'FM aaryan_varshney', 2420, 'shreyash_2007', 2018, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Be7,Bg5,Nbd7,e3,O-O,Rc1,a6,cxd5,exd5,Bd3,Re8,O-O,Nf8,Qc2,c6,a3,a5,h3,N6d7,Bf4,Nf6,Rfe1,Ng6,Bh2,Bd6,Bxd6,Qxd6,Rcd1,Bd7,Na4,Ne4,Nc5,Nxc5,Qxc5,Qf6,Be2,a4,Qc3,b5,Rc1,Rac8,Qc5,Re6,Bd3,Rce8,Bxg6,Qxg6,Ne5', 'Rxe5,dxe5,Bxh3', 'https://lichess.org/training/wGGFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WGgIM', 'Blitz', 'Joenathanael', 1930, 'AtomicBear', 1985, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Qf3,Nxc3,Qxc3,Nc6,Bb5,Bd7,d4,a6,Bxc6,Bxc6,Nf3,e6,O-O,Be7,Be3,O-O,Ne5,Bd5,Qd2,Bf6,Bf4,Bxe5,Bxe5,f6,Bg3,Qd7,Qc3,Rac8,Rfe1,Qe7,a3,c5,dxc5,Qxc5,Qxc5,Rxc5,Bd6,Rxc2,Bxf8,Kxf8,b4,b5,Rac1,Ra2,Re3,e5,f3,Bc4,Rd1,Kf7,Rd7+,Kg6,Ra7,Kf5,Rxa6,Kf4,Rc3,e4,fxe4,Kxe4,a4,Kd4,Rg3', 'Ra1+,Kf2,Rf1#', 'https://lichess.org/training/WGgIM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WGGoJ', 'Classical', 'giovatt', 1665, 'arnold123', 1740, 'e4,c6,d4,d5,e5,e6,Bd3,Nd7,Nf3,Ne7,O-O,c5,c3,Nc6,b3,Be7,Ba3,a6,Re1,b6,b4,c4,Bc2,b5,Qe2,a5,bxa5,Bxa3,Nxa3,Qxa5,Nb1,b4,cxb4,Nxb4,a3,Ba6,a4,Nd3,Bxd3,cxd3,Qd2,Qb6,Nc3,Rc8,Rec1,O-O,Rab1,Qa7,Nb5,Rxc1+,Qxc1,Qb7,Nd6,Qa8,Qc7,Nb8,Nxf7,Rxf7', 'Rxb8+,Qxb8,Qxb8+', 'https://lichess.org/training/WGGoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WGGzg', 'Blitz', 'ahmadking15', 1574, 'eBarke', 1528, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Nxc6,bxc6,Bd3,d6,O-O,Nf6,Be3,O-O,Qd2,c5,Bh6,Rb8,Bxg7,Kxg7,b3,a5,f4,Bb7,f5,d5,e5,Ne4,Nxe4,dxe4,f6+,exf6,exf6+,Kh8,Qh6,Rg8,Bc4,Bd5,Rf4,Bxc4', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/WGGzg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wgHry', 'Blitz', 'chcrista', 1822, 'NM kinggizzard', 2209, 'e4,c5,b4,cxb4,a3,d5,axb4,dxe4,Nc3,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,Nge2,e6,Ba3,Nc6,Rb1,Be7,O-O,O-O,Ng3,Qd4,Nce2,Qd5,c3,a6,Nf4,Qg5,Nh3,Qh6,f4,Rfd8,Qe2,Rd7,Nxe4,Rad8,d4,Qg6,Nc5,Bxc5,bxc5,Nd5,Bb2,h5,Rbe1,Nde7,Ng5,Nf5,Ne4,Rd5,Rf3,Kf8,Ng3,Nh6,Ref1,h4,Ne4,Nf5,Bc1,Ke7,Be3,Rh8,h3,a5,Kh2,Ra8,Ra1,Rd7,Bf2,Qh6,Ng5,Qh8,Rd3,Qb8,Qb2', 'Qxf4+,Kh1,Qxg5', 'https://lichess.org/training/wgHry');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WgiEB', 'Rapid', 'EL_Patron6891', 1881, 'Mrreg', 1863, 'e3,d5,b3,e6,Bb2,Nf6,Qf3,Nc6,Bxf6,gxf6,Nh3,Ne5,Qe2,f5,Nf4,Bg7,d4,c5,dxe5,Bxe5,c3,d4,cxd4,cxd4,Nd3,Bf6,Nd2', 'dxe3,Rc1,exd2+', 'https://lichess.org/training/WgiEB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WgJHb', 'Blitz', 'Metekan', 2205, 'DougDimmadome', 1685, 'e4,e5,Nf3,Nf6,Bc4,Bc5,Nxe5,Nc6,Bxf7+,Kf8,Nxc6,dxc6,Bb3,Bxf2+,Kxf2,Nxe4+,Ke1,Qh4+,g3,Nxg3,Qf3+,Bf5,hxg3,Re8+,Kd1', 'Qxh1+,Qxh1,Bg4+,Qf3+,Bxf3#', 'https://lichess.org/training/WgJHb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WGJS0', 'Rapid', 'JickFu', 1854, 'sacsandviolence', 2065, 'e4,c5,f4,Nc6,Bc4,e6,Nf3,d5,exd5,exd5,Bb5,Qc7,d3,Be7,O-O,Nf6,d4,O-O,Bxc6,Qxc6,Ne5,Qb6,c3,Bf5,Nd2,Rfe8,Ndf3,Rad8,Ng5,Bg6,b3,Ne4,Nxg6,Nxg5', 'Nxe7+,Rxe7,fxg5', 'https://lichess.org/training/WGJS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wgJxA', 'Rapid', 'SachoAgainstYou', 1924, 'Salahchess123', 1907, 'd4,g6,c4,Bg7,Nc3,e6,Nf3,Ne7,e4,O-O,Be2,d6,Bg5,Re8,O-O,Nbc6,d5,exd5,exd5,Nb8,Qd2,Bf5,Bh6,c5,Bxg7,Kxg7,Bd3,Bxd3,Qxd3,Ng8,Rfe1,Nd7,Nb5,Ne5,Nxe5,Rxe5,Qc3,f6,f4,Re7,Re6,a6,Rxd6,Qb8,Re1,axb5', 'Rxe7+,Nxe7,Qxf6+', 'https://lichess.org/training/wgJxA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wGKV4', 'Rapid', 'Imadmalak', 1678, 'nystart', 1716, 'e3,d5,Nc3,Nf6,Qf3,Bg4,Qg3,e6,f3,Bd6,f4,Nc6,h3,Bh5,b3,Nb4,Bd3,Nxd3+,cxd3,O-O,Bb2,Bg6,e4,dxe4,dxe4,Nxe4,Nxe4,Bb4,Nf3,Qd3,Nf2', 'Bxd2+,Nxd2,Qxg3', 'https://lichess.org/training/wGKV4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wGl8Q', 'Rapid', 'medfischer', 2191, 'Shbr_Vakil', 2188, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,e3,h6,Bh4,Nbd7,Bd3,O-O,Qc2,c5,Nf3,Re8,O-O,cxd4,Nxd4,Nc5,Be2,Nfe4,Bxe7,Rxe7,Rfd1,Be6,Nxe4,Nxe4,Bf3,Rc8,Qa4,Qb6,Nxe6,Rxe6,Bg4,Qxb2,Rf1,Rc4,Qb3,Rb6,Qd3,Nxf2,Qxd5,Rxg4,Rac1,Nh3+,Kh1,Rbg6,gxh3,Rg2,Qxf7+,Kh8', 'Rc8+,Kh7,Qg8#', 'https://lichess.org/training/wGl8Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wgld9', 'Rapid', 'DChiuch', 1768, 'WizardLizard81', 1776, 'e4,Nc6,d4,e5,Nf3,exd4,Nxd4,Bc5,Be3,Bb6,Bc4,Nf6,Nxc6,bxc6,e5,Nd5,Nc3,Bxe3,fxe3,Nxe3,Qf3,Nxc4,O-O-O,Ba6,e6,Qg5+,Kb1,dxe6', 'Qxc6+,Kf8,Qxa8+', 'https://lichess.org/training/wgld9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WgLVk', 'Blitz', 'jdalcheco', 1664, 'hummel2008', 1673, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nbd7,Bf4,Bd6,Bxd6,cxd6,e3,O-O,Bd3,e5,cxd5,Re8,O-O,e4,Nxe4,Nxe4,Qc2,Ndf6,Nd2,Nxd2,Qxd2,Bd7,f3,Qb6,Kh1,Rac8,a3,Rc7,b4,Rec8,Rad1,Bb5,Bxb5,Qxb5,e4,h6,Qf4,Qa6,Rd3,Rc3,Rxc3,Rxc3,h3,Rxa3,Rc1,Ra2,Rc8+,Kh7,Qf5+,g6,Qxf6', 'Qf1+,Kh2,Rxg2#', 'https://lichess.org/training/WgLVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wgnCg', 'Rapid', 'Leikepeike', 2042, 'Jiff_23', 1857, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nc3,Nf6,O-O,Ne5,Bxd7+,Qxd7,f4,Ng6,Qf3,Be7,Bd2,O-O,Rae1,c6,h3,h6,g4,Nh7,Nf5,Nh4,Nxe7+,Qxe7,Qf2,Ng6,Be3,b6,Qf3,Nh4,Qg3,Ng6,Bf2,Rae8,h4,Nf6,h5,Nh8,Qf3,Qd7,f5,Re7,Bh4,Rfe8,Bxf6,gxf6,Qf4,Kh7,Rd1,Re5,Rd3,d5,Rfd1,Qe7,exd5,Re1+,Kf2,Rxd1,Rxd1,cxd5,Nxd5,Qe2+,Kg3,Kg7,Rd2,Qe1+,Qf2,Qe5+,Kg2,Qe4+,Qf3,Qe5,Kf2', 'Qe1+,Kg2,Qxd2+', 'https://lichess.org/training/wgnCg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wGNIY', 'Rapid', 'rptzor', 1800, 'HernanCortess', 1795, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,g6,c3,Bg7,d3,b5,Bb3,O-O,Re1,d6,a4,Bd7,Nbd2,Rb8,axb5,axb5,Nf1,Ra8,Bg5,h6,Be3,Kh8,Qd2,Kh7,Ng3,f5,exf5,Nxf5,Nxf5,Rxf5,Bd5,Rxa1,Rxa1,Ne7,Be4,Rf8,Ra8,Bc8,d4,Nf5,dxe5,Nxe3,Qxe3,Bxe5,Nxe5,dxe5,Bc2,Qf6,Qg3,Bf5,Rxf8,Qxf8,Bxf5,Qxf5,h3,Qf4,Qxf4,exf4,Kf1,Kg7,Ke2,Kf6,Kd3,Ke5,b4,c6,h4,g5,hxg5,hxg5,f3,Kd5,Kc2', 'Kc4,Kd2,Kb3', 'https://lichess.org/training/wGNIY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WgnNy', 'Rapid', 'Maksb', 1940, 'NoLogicOne', 2020, 'e4,e6,d4,d5,Bd3,c5,Nf3,dxe4,Bxe4,f5,Bd3,cxd4,Nxd4,Bc5,Nf3,Nc6,Nc3,Nf6,Bg5,h6,Bf4,Ng4,O-O,O-O,h3,e5,hxg4,exf4,gxf5,Bxf5,Ne4,Bb6,Qe2,Nd4,Nxd4,Qxd4,Rad1,Rae8', 'Bc4+,Kh8,Rxd4', 'https://lichess.org/training/WgnNy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WgNOI', 'Classical', 'Haosent', 1691, 'Kingshowman', 1656, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Nd4,Nxe5,Qe7,Nf3,Nxe4,Nxe4', 'Qxe4+,Kf1,Nxb5', 'https://lichess.org/training/WgNOI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WgNzL', 'Rapid', 'shaiene', 1950, 'shalabyyy', 1988, 'd4,d5,c4,Nf6,Bg5,g6,Nc3,c6,Nf3,Bg7,e3,Bg4,Be2,Nbd7,h3,Bxf3,Bxf3,O-O,cxd5,cxd5,Bxd5', 'Nxd5,Nxd5,Qa5+,Nc3,Qxg5', 'https://lichess.org/training/WgNzL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wgqmw', 'Blitz', 'FriganiGavuni', 1925, 'tuing', 1955, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,Nxe5,Nxe5,d4,Nxc4,dxc5,O-O,O-O,Na5,b4,Nc6,Bb2,d6,b5,Ne5,c6,bxc6,bxc6,Nxc6,Rb1,Be6,f4,Nd7,f5,Bc4,Rf3,Nde5,Rg3,f6,Nd5,Bxd5,Bxe5,Kh8,Qg4,Rg8,exd5,Nxe5,Qh4,Qe8', 'Qxh7+,Kxh7,Rh3+,Qh5,Rxh5#', 'https://lichess.org/training/wgqmw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WGTVS', 'Rapid', 'MrTuanna8x', 1584, 'MMMMatrix', 1611, 'e4,d6,Nf3,Nf6,Nc3,g6,Bc4,a6,O-O,b5,Bb3,b4,Nd5,Nxe4,d4,Nc6,Qd3,Bf5,Qe3,Bg7,c3,O-O,Nh4,Qd7,Bc2,bxc3,bxc3,e6,Bxe4,Bxe4,Qxe4,exd5,Qxd5,Rab8,a4,Ne7,Qf3,Rb3,Ra3,Rxa3,Bxa3,Qxa4,Bb2,Qb3,Qe2,Nd5,Rc1,a5,Nf3,Nf4,Qc2,Qc4,Ra1,Ra8,Kh1,Nd3,Ra4,Qb5,Ba1,Nxf2+,Kg1,Nd3,c4,Qf5,Qe2,c5,Ra3,Nf4,Qd2,cxd4,Bxd4,Bxd4+,Nxd4,Qc5,Rf3,Ne2+,Qxe2,Qxd4+,Qf2,Qxf2+,Kxf2,a4,Ra3,Kf8,Ke3,Ke7,Kd4,Ke6,Kc3,Ra5,Kb4,Rg5,Rxa4,Rxg2,Ra6,Ke5,Ra5+,Ke6,Ra6,Kd7,Ra7+,Ke6,Ra6,Rg4,Kc3,Ke5,Ra5+,Ke6,Ra6,Kd7,Ra7+,Ke6,Ra6,Kd7,Ra7+,Kc8,Ra6,Kc7,Ra7+,Kb6,Rd7,Kc6,Rd8,Kc5,Rc8+,Kb6,Rb8+,Kc7,Ra8,Re4,Ra7+,Kb6,Rxf7,Kc5,Rc7+,Kb6,Rxh7,Re3+,Kd4,Ra3,Rg7,Ra2,h4,Rh2,Rxg6,Rxh4+,Kc3,Kc5,Rg8,Rxc4+,Kd3,Kb5', 'Rb8+,Kc5,Rc8+,Kd5,Rxc4', 'https://lichess.org/training/WGTVS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wguBM', 'Rapid', 'Marjimmy', 1804, 'lpivi', 1737, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,e6,Bg5,Ne7,Nc3,O-O,Bc4,Re8,O-O,Nbc6,Qd2,Qb6,e5,Nf5,Ne2,h6,Be3,Nxe3,Qxe3,Qxb2,Rab1,Qb4,Rxb4,Nxb4,a3,Nc6,Nc3,Ne7,Ne4,Nf5,Qc3,d5,Nd6,dxc4,Nxe8,Bd7,Nf6+,Bxf6,exf6,Rc8,Ne5,Bb5,Rb1,a6,a4,Bxa4,Rxb7,Bb5,Qb4,c3,Rxf7,c2,Rg7+', 'Nxg7,f7+,Kh7', 'https://lichess.org/training/wguBM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wgueU', 'Blitz', 'gepard2007', 2156, 'Oliverfab', 2035, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,e5,Re1,a6,Bd3,Ngf6,c3,Be7,Bc2,O-O,d4,Qc7,dxe5,dxe5,Bg5,Rd8,Qe2,b5,Nbd2,Bb7,h3,h6,Bh4,c4,Rad1,Nc5,Bg3,Nfd7,Nh4,g6,Qe3,Kg7,Nhf3,Bf6,Nf1,Nf8,Bh4,g5,Bg3,Nfe6,h4,g4,N3h2,h5,f3,gxf3,Nxf3,Rg8,Ng5,Rad8,Rxd8,Qxd8,Nxe6+,Nxe6,Qe2,Rh8,Rd1,Qb6+,Ne3,Nf4,Qf2,Kf8,Bxf4,exf4,Qxf4,Bc8,Qd6+,Qxd6,Rxd6,Ke7,Rb6,Bxh4,Rb8,Kd8,Nf5,Bf6,Ra8,Be5,Kf2,h4,Kf3,Rg8', 'Rxc8+,Kxc8,Ne7+,Kd7,Nxg8', 'https://lichess.org/training/wgueU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wGuha', 'Rapid', 'metin48', 2130, 'oratile219', 1798, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,h3,d6,Re1,Ne7,d4,exd4,Nxd4,Ng6,Bg5,Re8,Nd5,c6,Bxf6,gxf6,Nc3,d5,exd5', 'Rxe1+,Qxe1,Bxd4', 'https://lichess.org/training/wGuha');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WGwJu', 'Rapid', 'Ganhuyag', 2044, 'hadind', 1963, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Be2,Bd6,O-O,Bg4,h3,Bh5,c3,O-O,Be3,Nbd7,Qc2,c6,a3,Bg6,Bd3,Ne4,Bxe4,Bxe4,Qd1,Nf6,Nbd2,Re8,Nxe4,Nxe4,Nd2,Nxd2,Qxd2,Qf6,Bg5,Qg6,Bf4,Bxf4,Qxf4,Re7,Rae1,Rxe1,Rxe1,h6,Qe5,Qc2,Re2,Qc1+,Kh2,Qg5,Qxg5,hxg5,Re7,b6,Rc7,Re8,Rxc6,Re2,f3,Rxb2,Rd6,Rb3,Rxd5,Rxc3,Rxg5,Rxa3,Rb5,Ra5,Rb3,Rd5,Ra3,a5,Rb3,b5,Kg3,g5,Kf2,Kf8,Ke3,f5,g3,Ke7,f4,Kf6,Rc3,a4,Rc6+,Kf7,fxg5,a3,h4,b4,h5,Ra5,Rc7+,Ke6,h6,a2,Rc1,Kf7,Rc7+,Kg6,Rg7+,Kh5,h7,Ra8,Rg8,a1=Q', 'h8=Q+,Kg4,Qh4#', 'https://lichess.org/training/WGwJu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WGXEG', 'Rapid', 'Wm-Hippo', 1943, 'darendeli92', 1944, 'e4,c5,Nf3,d6,Bb5+,Nd7,c4,a6,Ba4,Nf6,d3,e5,Nc3,Be7,Bg5,O-O,O-O,Ng4,Bxe7,Qxe7,Nd5,Qd8,h3,Nh6,Qd2,Rb8,b4,b5,Bc2,cxb4,Qxb4,Nc5,Nxe5,a5,Qc3,dxe5,Qxe5,Bb7', 'Ne7+,Kh8,Qxc5', 'https://lichess.org/training/WGXEG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WGXrL', 'Blitz', 'angelikaw94', 1854, 'Degtyarchuk', 1696, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Be7,O-O,O-O,Ne5,Nbd7,Bf4,c6,Nd2,Nxe5,Bxe5,Bd6,f4,Bf5,c4,Bxe5,fxe5,Be4,cxd5,Qxd5,Nxe4,Nxe4,Bf3,Rad8,Qc2,Qxd4+,Kh1,Ng5,Rad1,Qxe5,Rde1,Qd4,Qf5,Nxf3,Rxf3,Rd5', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/WGXrL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wgXXN', 'Rapid', 'StockfishLevel5', 1632, 'Tea_ZA', 1621, 'd4,d5,c4,e6,e3,c5,Nf3,Nc6,cxd5,exd5,Bb5,a6,Bxc6+,bxc6,Nc3,Nf6,Ne5,Qc7,O-O,Bd6,f4,O-O,Bd2,cxd4,exd4,Re8,Be1,c5,Bh4,Ne4,Nxd5,Qb7,Nc3,cxd4,Qxd4', 'Bc5,Qxc5,Nxc5', 'https://lichess.org/training/wgXXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wGY8z', 'Rapid', 'samsunmetin', 1800, 'Moritz-sein-Papa', 1640, 'e4,e5,Bc4,f5,exf5,d5,Qh5+,Ke7,Bb3,Nf6,Qg5,Nc6,Nf3,e4,Nh4,Nd4,O-O,h6,Ng6+,Ke8,Qe3,Nxf5,Qc3,Rg8,Qe5+,Kf7,Nxf8,Rxf8,Nc3,Re8,Bxd5+,Nxd5,Qxd5+,Qxd5,Nxd5,Nd4,Nxc7,Nxc2,Nxa8,Nxa1,Nc7,Re7,Nd5,Re5,Ne3,Rc5,b4,Rc6,Bb2,Nc2,Rc1,Nxb4,Rxc6,bxc6,a3,Nd3,Bc3,Be6,h3,Nf4,Kf1,g6,h4,h5,g3,Bh3+,Ke1,Nd3+,Ke2,Nc1+,Kd1,Nd3,Nc4,Nxf2+,Ke2,Nd3,Bd4,Bg4+,Ke3,c5,Kxe4', 'Bf5+,Ke3,cxd4+', 'https://lichess.org/training/wGY8z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WgYHi', 'Classical', 'CapivaraSem7', 1640, 'The_Hammer_11', 1669, 'd4,d5,Nf3,Nc6,Nc3,e6,a3,Bd6,e4,dxe4,Nxe4,Nf6,Nxd6+,cxd6,Bd3,e5,dxe5,dxe5,Ng5,O-O,O-O,Ng4,f3,Nf6,Be3,h6,Nh3,Be6,Qe2,b6,Rad1,Nd4,Bxd4,Qxd4+,Kh1,Qxb2,Rb1,Qxa3,Qxe5,Rfe8,Qd4,Rad8,Qh4,Bxh3,Qxh3,Qd6,Rfd1,Qb8,Ba6,Rxd1+,Rxd1,Rd8,Re1,Qe5,Qh4,Qd6,h3,Re8,Be2,Qf8,Qa4,Ra8,Ba6,Nd5,Bb7,Rd8', 'Bxd5,Rxd5,Re8', 'https://lichess.org/training/WgYHi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WH2Ey', 'Rapid', 'kangst3r', 1844, 'Tolllk', 1858, 'e4,e5,Bc4,Nf6,d3,h6,Ne2,c6,f4,d6,O-O,Be7,fxe5,dxe5,a3,Bg4,Qe1,O-O,Ng3,Nbd7,h3,Be6,Nd2,b5,Bb3,a5,a4,b4,Nf5,Bxf5,Rxf5,Nc5,Bc4,Qb6,Kh1,Rad8,Rxe5,Bd6,Rf5,Nh7,Qh4,Qc7,Nf1,Ne6,Qh5', 'g6,Qg4,h5', 'https://lichess.org/training/WH2Ey');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wh3T7', 'Rapid', 'to979', 1792, 'Chess_General', 1799, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,e6,Re1,Ngf6,d3,h6,Nbd2,Bc5,Nf1,O-O,b3,Re8,h3,e5,Bb2,Qb6,d4,exd4,Bxd4', 'Rxe1,Qxe1,Bxd4,Nxd4,Qxd4', 'https://lichess.org/training/wh3T7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wH543', 'Rapid', 'connorwelty', 1712, 'fibberybosch', 1673, 'd4,d6,c4,c6,Nf3,h6,Nc3,Bf5,Bf4,Nf6,e3,g5,Bg3,g4,Nh4,Be4,Nxe4,Nxe4,Qxg4', 'Qa5+,Ke2,Qd2+,Kf3,Ng5+,Qxg5,hxg5', 'https://lichess.org/training/wH543');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WH59E', 'Rapid', 'sisyphos33', 2290, 'kijek', 2218, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,h3,Bh5,Re1,Nf6,d3,Bb6,Bb3,Qd7,Nbd2,g5,Nc4,g4,hxg4,Bxg4,Nxb6,axb6,d4,exd4,cxd4,Rg8,d5,Nd4,Qxd4,Bxf3,e5,Bxg2,exd6+,Ne4,Bf4,Qh3,Qe5+,Kd7', 'Qe7+,Kc8,Qxc7#', 'https://lichess.org/training/WH59E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wH6Bi', 'Classical', 'nolucker', 1633, 'untaltal', 1850, 'e4,c5,Nf3,e6,Nc3,d6,d3,Nf6,Be3,a6,g3,g6,Bg2,Bg7,O-O,O-O,a3,Nc6,d4,cxd4,Bxd4,Nxd4,Nxd4,Qb6,Re1,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/wH6Bi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wH6mv', 'Rapid', 'Plichess3', 1626, 'Mcclellan2', 1659, 'Nf3,d5,g3,Nf6,Bg2,c5,O-O,Nc6,d3,b6,Nc3,e6,e4,Bb7,Bg5,Be7,e5,Ng4,Bf4,Qc7,Re1,O-O,h3,Nh6,Bxh6,gxh6,Nb5,Qd7,d4,Nxd4,Nbxd4,cxd4,Nxd4,Bc5,c3,Kh8,Kh2,Rg8,f4,Raf8,Rf1,Rg6,g4,Qe7,f5,exf5,gxf5,Qxe5+,Kh1,Rxg2,Kxg2,Rg8+,Kh1,Qe4+,Qf3,Bxd4,Qxe4', 'dxe4,cxd4,e3+,Kh2,Rg2+', 'https://lichess.org/training/wH6mv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wh9FY', 'Blitz', 'N19771024', 1958, 'trmittal24', 1973, 'e4,c6,d4,d5,e5,Bf5,c3,e6,Bd3,Bg6,Nf3,c5,O-O,Nd7,Be3,Rc8,h3,Qb6,b3,Ne7,Nh2,Nf5,Bxf5,Bxf5,g4,Bg6,f4,h5,f5,exf5,gxf5,Bh7,e6,fxe6,Qxh5+,Kd8,fxe6,Qxe6,Bg5+,Be7,Bxe7+,Qxe7,Nd2,Qe3+,Rf2,Nf6,Qf3,cxd4,cxd4,Rc3,Qxe3,Rxe3,Ndf3,Ne4,Rg2,g5,Ne5,Rf8,Nhf3,Nc3,Rf1,Be4,Rgf2,Ne2+,Kh2,Nf4,Nxg5,Rh8,Ngf7+,Kc7,Nxh8,Rxh3+,Kg1,Rg3+,Kh2', 'Rh3+,Kg1,Rh1#', 'https://lichess.org/training/Wh9FY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wH9PS', 'Rapid', 'slightlyredgreen', 1708, 'T0131', 1807, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,e6,Nc3,Nf6,Bb5,Bb4,Qd3,Bxc3+,bxc3,Ne5,Qg3,a6,Qxe5,axb5,Nxb5,O-O,Bg5,Ra5,c4,d6,Bxf6,gxf6,Qxd6,Bd7,a4,Ra6,Qc7,Qe7,Qxb7,Qb4+,Ke2,Qxc4+,Kf3,Bc6,Qxa6,Qxe4+,Kg3,Kh8,f3,Rg8+,Kf2,Qxc2+,Ke3,Qb3+,Kd4,Rd8+,Kc5,Rd5+,Kxc6,Qc4+,Kb6,Qc5+,Ka5,Qc7+,Qb6,Qc3+,Ka6,Qc8+,Ka5,Qc3+,Ka6,Qc8+,Qb7,Qc4,Rhc1,Rd6+,Ka5,Qd5,Qxd5,Rxd5,Rc8+,Kg7,Rac1,f5,R1c4,Kf6,Kb4,Rd1,Kc5,Ra1,Kd4,h5,Nd6,Rd1+,Kc5,Rd5+,Kc6,Ra5,Rf8,Ra6+,Kd7,Ke5,Nxf7+,Kd5,Rb4,Ra7+,Ke8,Kc5,Rb5+,Kc6,Ne5+,Kd6,Rf7', 'Ra8+,Rb8,Rxb8#', 'https://lichess.org/training/wH9PS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WhbZm', 'Classical', 'Tortue_30', 1819, 'bonjur46', 1843, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd5,Qe7,e5,f6,f4,fxe5,Qxe5,Qxe5+,fxe5,d6,exd6,Bxd6,O-O,Ne7,Bf7+,Kd7,Bf4,b6,Bxd6,Kxd6,Nc3,Bb7,Rad1+,Kc7,Nd5+,Nxd5,Bxd5,Rad8', 'Rf7+,Rd7,Rxd7+', 'https://lichess.org/training/WhbZm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WhCbS', 'Rapid', 'ipong15', 1832, 'SamiullahKhan', 1663, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,a6,a4,h6,c3,d6,Be3,Bg4,Nbd2,d5,exd5,Nxd5,Qb3,Be6,O-O-O,Qd7,Ne4,Nxe3,Bxe6,Qxe6,Qxe6+,fxe6,fxe3,O-O-O,d4,exd4,exd4,Be7,h4,Bf6,Nc5,e5,d5,Ne7,c4,Nf5,Ne6,Rde8,g4,Nd4,Nfxd4,exd4,Nxd4,Re4,Ne6,Rxc4+,Kb1,Rxg4,Rc1,Be5,Rhe1,Bd6,Rg1,Rxh4,Rxg7,Rxa4,Nxc7,Bxc7', 'Rcxc7+,Kb8,Rxb7+', 'https://lichess.org/training/WhCbS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wHCMQ', 'Rapid', 'jdjalma', 1661, 'mboddie', 1698, 'd4,c6,e4,d5,exd5,cxd5,Nf3,e6,Be2,Nf6,O-O,b6,c3,Bb7,Qa4+,Nc6,Bb5,Qc7,Ne5,Rc8,Bxc6+,Bxc6,Nxc6,Qxc6,Qxa7', 'Ra8,Qxa8+,Qxa8', 'https://lichess.org/training/wHCMQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wHDBv', 'Rapid', 'dudeof', 1884, 'chessblack99', 2091, 'd4,d5,c4,c6,Bf4,Bf5,e3,Nf6,Nc3,e6,c5,Nbd7,Bd3,Bg6,Bxg6,hxg6,h3,Be7,Nf3,O-O,O-O,b5,b4,a5,a3,Ra6,Qd2,Qa8,Ra2,axb4,axb4,Rxa2,Nxa2,Ne4,Qc2,Qa3,Rb1,Ra8,Nc1,Nc3,Rb3', 'Qxc1+,Qxc1,Ne2+,Kf1,Nxc1', 'https://lichess.org/training/wHDBv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WHDFk', 'Rapid', 'SebastianCB', 1733, 'Mizochessprince', 2016, 'e4,e6,d4,d5,exd5,exd5,c4,dxc4,Bxc4,Nf6,Nf3,Bb4+,Bd2,Qe7+,Ne5,O-O,O-O,Bxd2,Nxd2,Nbd7,Ndf3,c6,Re1,Qb4,Qc2,Nb6,a3,Qd6,Rad1,Nbd5,Ba2,h6,Nc4,Qc7,b4,Bg4,Nce5,Bxf3,Nxf3,Rfe8,Bxd5,Nxd5,h3,Qf4,Qd2,Qf6,Ne5,Re7,Ng4,Rxe1+,Rxe1,Qd6,Re5,Rd8,Qe1,Kf8,g3,Ne7,Qe4,Ng6,Ra5,a6,Ne5,Qxd4,Nxg6+,fxg6,Qxg6,Qd6,Rf5+,Kg8,Qf7+,Kh8,Qxb7,Qe6,Qf7,Rd1+,Kh2,Qe1,g4', 'Qg1#', 'https://lichess.org/training/WHDFk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wHDlD', 'Classical', 'bfj90g', 1828, 'bartolin777', 1954, 'e4,d6,d4,c6,c4,Qc7,Nc3,e5,d5,Be7,Nf3,Bg4,h3,Bh5,g4,Bg6,Bg2,h5,g5,h4,O-O,Bh5,Qd3,Bxf3,Qxf3,Nd7,Bd2,c5,Nb5,Qd8,g6,fxg6,Bg5,a6', 'Nxd6+,Bxd6,Bxd8', 'https://lichess.org/training/wHDlD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wHEIR', 'Rapid', 'Forever2003', 1907, 'nadavagmor', 1819, 'd4,Nf6,c4,e6,Bg5,d5,Nc3,Nbd7,cxd5,exd5,f3,Bb4,e4,h6,Bh4,g5,Bg3,dxe4,a3,Bxc3+,bxc3,O-O,Bc4,Re8,fxe4,Nxe4,Ne2,Nxc3,Qb3,Rxe2+,Bxe2,Nxe2,Kxe2,b6,Rhf1,Ba6+,Kd2,Bxf1,Rxf1,Qf8,Qd5,Rd8', 'Bxc7,Re8,Qxd7', 'https://lichess.org/training/wHEIR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wHI6Z', 'Rapid', 'kec', 1987, 'attagol', 2002, 'e4,a6,d4,b5,Nf3,Bb7,Bd3,e6,Nc3,d6,O-O,Nf6,h3,Nbd7,Bg5,Be7,Re1,c5,dxc5,Nxc5,e5,dxe5,Nxe5,Qc7,Bf1,Rd8,Qe2,h6,Bf4,Rd4,Nxf7,Rxf4,Nxh8,Qc6,Ng6,Rf5,Nxe7,Kxe7,Rad1,Rg5,f3,Nh5,Qf2,Nf4,g4,Nxh3+,Bxh3,h5,Qg3,hxg4,Bxg4,b4,Qh4,Kf6,Ne4+,Nxe4,Rxe4,Qc5+,Kg2,Bxe4,fxe4,Qxc2+,Kh3,Qxe4,Rf1+,Kg6,Rf3,Qb1,Qg3', 'Qh1+,Qh2,Qxh2+,Kxh2,Rxg4', 'https://lichess.org/training/wHI6Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('whJj3', 'Rapid', 'Yvk1989', 1878, 'sarweshs', 1911, 'd4,d5,c4,dxc4,Nc3,e6,Bf4,Nf6,g3,Be7,Bg2,O-O,Qa4,c6,Qxc4,Bd6,Bg5,Be7,Bf4,h6,Qb3,Bd6,Bxd6,Qxd6,e3,Nd5,Nxd5,exd5,Ne2,Nd7,O-O,Nf6,Nf4,Rb8,Qd1,Bf5,a3,Ne4,f3,Ng5,b4,Rbe8,Qd2,Re7,Rfe1,Rfe8,Re2,Qd7,Rae1,Bh3,Nxh3,Nxh3+,Kh1,Ng5,f4,Ne4,Bxe4,Rxe4,Qd3,b6,Qc3,Qb7,a4,Rc8,Qb3,Qa8,Rc1,c5,bxc5,bxc5,Rxc5,Rxc5,dxc5,d4,Kg1,Qc6,Qb8+,Kh7,Qb1,f5,Qd3,Qxc5,exd4,Rxd4,Qe3,Rd1+,Kf2,Qd5,Qf3', 'Rf1+,Kxf1,Qxf3+', 'https://lichess.org/training/whJj3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WHjWH', 'Blitz', 'Stardust23', 1558, 'avo1948', 1739, 'd4,e6,Nf3,c5,e3,cxd4,exd4,d5,Bf4,Nc6,c3,Bd6,Be3,Nf6,h3,O-O,Bd3,h6,Nbd2,e5,dxe5,Nxe5,Bb1,Be6,Nd4,Qd7,Nxe6,Qxe6,Nf3,Ne4,Nd4,Qg6,O-O,f5,f3,Ng3,Rf2,Qh5,Bf4,Qh4,Bxg3,Qxg3,Nxf5,Rxf5,Bxf5,Nxf3+,Qxf3,Qh2+,Kf1,Re8,Qxd5+,Kh8,g4,Qxh3+,Kg1,Qg3+,Rg2', 'Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/WHjWH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WHjXT', 'Classical', 'kassan00', 1923, 'hari-y', 1932, 'e4,e5,d4,exd4,Nf3,Nf6,Bc4,Bc5,O-O,O-O,e5,Ne8,Bg5,Be7,Bxe7,Qxe7,Qxd4,Nc6,Qe4,Nd6,Qd5,Nxc4,Qxc4,Nxe5,Nxe5,Qxe5,Nc3,c6,Rfe1,Qf6,Qc5,d5,Rad1,Bg4,f3,Bf5,h3,Bxc2,Nxd5,cxd5,Qxc2,Rac8,Qb3,Rc7,Qxd5,h6,Qa5,b6,Qa3,Rfc8,Kh1,a5,Re2,Qg6,Qb3,Qg3,Rde1,Rc1,Re8+,Rxe8,Rxc1,Qf2,Qb5,Re2,Rc8+,Kh7', 'Qf5+,g6,Qxf7#', 'https://lichess.org/training/WHjXT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WHl3F', 'Blitz', 'Systimpy', 1953, 'Jyoti115', 1991, 'e4,c6,d4,d5,f3,dxe4,fxe4,Nf6,Be3,Nxe4,Nf3,Bg4,Bd3,Nf6,O-O,e6,Qe1,Nd5,Bd2,Be7,c4,Nf6,Bc3,O-O,Nbd2,c5,d5,exd5,cxd5,Nxd5,Ne5,Be6,Qg3,Nxc3,bxc3,Nc6,Nxc6,bxc6,Rad1,Bxa2,Nc4,Qb8,Ne5,Bd6,Qh3,g6,Nd7,Be6', 'Nf6+,Kg7,Qxh7#', 'https://lichess.org/training/WHl3F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('whLnC', 'Classical', 'vanek09', 1908, 'scotchgambit1', 1789, 'e4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bg5,Be7,Bc4,O-O,O-O,a6,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/whLnC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('whM3V', 'Rapid', 'raodeepak', 1813, 'serg5151', 1871, 'e4,e5,Nf3,d6,Bc4,h6,d4,Nc6,d5,Nb8,c3,Nf6,Bd3,g5,Be3,Bg7,Na3,c6,dxc6,bxc6,Qa4,Bd7,Qc2,O-O,Nc4,Be6,a3,Nh5,h3,Nf4,Bxf4,exf4,O-O-O,d5,exd5,Bxd5,Ncd2,Nd7,Rhg1,Nc5,c4,Bxf3,Bh7+,Kh8,Nxf3,Qf6,b4,Qa1+,Qb1,Qxa3+,Kd2,Qc3+,Ke2,Qxc4+,Bd3,Rae8+,Kf1,Nxd3,Rxd3,Rd8,Ne1,Bc3,Ke2,Rfe8+,Kf3,Qe4+,Kg4,Bxe1,Rxd8,Qxb1,Rxe8+,Kg7,Rgxe1,f5+,Kh5,Qb3,R1e7+,Kf6,Kxh6,Qxb4,Re6+,Kf7,Kxg5,a5,R8e7+', 'Qxe7+,Rxe7+,Kxe7,Kxf4,a4', 'https://lichess.org/training/whM3V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WhMGZ', 'Blitz', 'aburamelukas', 1643, 'bananapok', 1642, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Nc6,Nxc6,bxc6,Be3,Qc7,a4,d5,exd5,cxd5,a5,Nf6,Bb6,Qc6,Be2,Bc5,Na4,Bxb6,Nxb6,Rb8,O-O,Bb7,Ra3,d4,Bf3,Qd6,Bxb7,Rxb7,Rd3,e5,f4,Nd7,fxe5,Qc5,Nxd7,Rxd7,Qg4,O-O,Qxd7,Qxe5,Qxd4,Qxa5,Rg3,f6,Rxf6', 'Qe1+,Rf1,Qxf1#', 'https://lichess.org/training/WhMGZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('whNOE', 'Rapid', 'vucins77', 2078, 'vowa1990', 1920, 'e4,Nf6,Nc3,e6,Nf3,Bb4,e5,Bxc3,bxc3,Nd5,c4,Ne7,d4,O-O,Bd3,h6,O-O,d6,exd6,cxd6,a4,b6,Be4,Nbc6,Ba3,Ba6,Bd3,Rc8,c5,Bxd3,Qxd3,dxc5,dxc5,Qxd3,cxd3,bxc5,Bxc5,Rfd8,Rfd1,Nf5,Rab1,Rd7,Kf1,Rcd8,Ke2,Rd5,Rbc1,a5,Bb6,Ncd4+,Nxd4,Nxd4+,Bxd4,Rxd4,Rc4,g5,Ke3', 'Rxc4,dxc4,Rxd1', 'https://lichess.org/training/whNOE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('whsYu', 'Rapid', 'vlada555', 1947, 'theYOLOguy', 2020, 'd4,d5,Bg5,c5,e3,Nf6,c3,e6,Bd3,Be7,Nd2,Nc6,Ngf3,h6,Bh4,O-O,h3,cxd4,Nxd4,Nxd4,exd4,b6,O-O,Bb7,Re1,Qc7,Bg3,Bd6,Bxd6,Qxd6,Nf3,Ne4,Ne5,f5,Qh5,Bc6,Qh4,a6,Ng6,Rfe8,Bxe4,dxe4,Ne5,Rf8,Qh5,Be8,Qh4,b5,Re3,Rf6,Rae1,g5,Qg3,f4,Qg4,fxe3,Rxe3,Bc6,Qh5,Raf8,Ng4,Kg7,Nxf6,Rxf6,h4,Rf5,Rg3,e5,hxg5,Rxg5,Rxg5+,hxg5,Qxg5+,Kf7,Qf5+,Qf6,Qh7+,Ke6,Qg8+,Qf7,Qc8+,Kd6,Qb8+,Kd5', 'Qxe5+,Kc4,Qc5+,Kd3,Qxc6', 'https://lichess.org/training/whsYu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wHTnk', 'Rapid', 'jailson1001', 1720, 'zarathustra7', 1805, 'b4,d5,Bb2,d4,Nf3,g6,Bxd4,Nf6,Bb2,Bg7,c4,O-O,e3,Bf5,Nc3,Nc6,a3,Ne4,d4,a5,b5,Na7,Bd3,Nxc3,Bxc3,Bxd3,Qxd3,c6,bxc6,Nxc6,h4,e6,h5,Qf6,hxg6,hxg6,Rc1,Qe7,e4,Qxa3,Ra1,Qe7,O-O,Rfd8,Rfb1,Nb4,Bxb4,axb4,Rxa8,Rxa8,d5,Ra3,Qd2,exd5,exd5,b3,d6,Qd7,Qb4,Ra6,Rxb3,Rxd6,Qxb7,Rd1+,Kh2,Qg4,Qb5,f5,Qe8+,Kh7,Qe7,Kh6,Rb7,Qh5+,Nh4,Be5+,g3,Bxg3+,fxg3', 'Rd2+,Kg1,Qd1+,Qe1,Qxe1#', 'https://lichess.org/training/wHTnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('whtzQ', 'Rapid', 'ChessHydra', 1698, 'Kovito', 1624, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,Nc6,e3,h6,Bh4,O-O,a3,a6,Qc2,Nh7,Bxe7,Qxe7,cxd5,exd5,Nxd5,Qd6,Nc3,Bg4,Bd3,Nf6,Nd2,Rae8,O-O,Bd7,Nc4,Qe6,Ne2,Qg4,h3,Qg5,f4,Qh4,e4,Bxh3,gxh3,Qxh3,d5,Ng4,Nc3,Nd4,Qd2,Nf3+,Rxf3,Qxf3,Bf1,b5,Bg2,Qg3,Na5,Qh2+,Kf1,Qg3,Nc6,Re7,Nxe7+,Kh8,Nf5,Qh2,Qe2,Qxf4+,Qf3', 'Nh2+,Kf2,Nxf3', 'https://lichess.org/training/whtzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WHUCk', 'Rapid', 'SinanTosun55', 1658, 'LordEdems', 1648, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,bxc6,Nc3,Bc5,d4,Bb4,f3,O-O,Bc4,d5,exd5,cxd5,Bd3,Re8+,Be2,Qd6,Bd2,a5,O-O,Bf5,Nb5,Qb6,Bxb4,axb4,Qd2,h6,Rfe1,c6,Nd6,Rxe2,Rxe2,Bg6,c3,c5,Qf4,bxc3,bxc3,cxd4,cxd4,Nh5,Qe5,f6,Qxd5+,Kh7,Qxa8,Qxd4+,Kh1', 'Qxa1+,Re1,Qxe1#', 'https://lichess.org/training/WHUCk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wHWPc', 'Blitz', 'NM mnmassari', 2119, 'Superpelotillas', 2051, 'd4,d5,Nf3,Bf5,g3,e6,Bg2,Nf6,O-O,h6,c4,c6,Nc3,Be7,Bf4,Bd6,cxd5,Bxf4,gxf4,cxd5,Rc1,Nc6,Ne5,O-O,Bf3,Nd7,Kh1,f6,Nxc6,bxc6,Rg1,Kh8,e4,dxe4,Nxe4,Bxe4,Bxe4,f5,Bxc6,Nf6,b3,Rc8,Bf3,Rxc1,Qxc1,Qxd4,Qc7,Ne4,Bxe4,Qxe4+,Rg2,Rg8,h3,Qf3,Kh2,Qd5,Qf7,Qe4,Qc7,a5,Rg6,Qf3,Rg2,Qe4,Rg6,Kh7,Rg2,a4,bxa4,Qxa4,Qe5,Qe4,Qd6,h5,a4,Qxa4,Qxe6,Qxf4+,Kg1,Qc1+,Kh2,Qf4+,Kg1,Qe4', 'Qg6+,Kh8,Qxh5#', 'https://lichess.org/training/wHWPc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WHxHf', 'Rapid', 'chadi', 1604, 'order523', 1713, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,h6,d3,d6,Be3,Bg4,h3,Bxf3,Qxf3,a6,Bb3,Nb4,a3,Nc6,Nd5,Be7,Nxe7,Qxe7,O-O,O-O,Qg3,Kh8,Qh4,Kh7,c3,Rae8,f4,exf4,Rxf4,Ne5,Rf5,Nxd3,Bxh6,gxh6', 'Rxf6,Qxf6,Qxf6', 'https://lichess.org/training/WHxHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WhYmD', 'Classical', 'shivabhuvan', 1687, 'hamidavimohamad', 1690, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,e3,b6,Nc3,Bb7,cxd5,exd5,Bb5+,Nbd7,Ne5,O-O,Nxd7,Nxd7,Bxe7,Qxe7,Qg4,f5,Qe2,Nf6,O-O,Ne4,f3,Nxc3,bxc3,c5,dxc5,Qxc5,Ba4,f4,Rfe1,Qxc3,exf4', 'Qd4+,Kh1,Qxa4', 'https://lichess.org/training/WhYmD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WHZzC', 'Rapid', 'gummo41', 1948, 'robfast', 1940, 'e4,c6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Be3,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,Nge7,a3,Nf5,Nge2,Nxe3,Qxe3,Be7,O-O,O-O,Ng3,Rc8,b4,a6,Rac1,Qd7,f4,a5,b5,Nxd4,Na4,Nxb5', 'Nb6,Rxc1,Nxd7', 'https://lichess.org/training/WHZzC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wI0ZW', 'Classical', 'BoringOldMan', 1735, 'NathCurt', 1748, 'd4,Nf6,Nf3,d5,Bf4,Bf5,e3,a6,Bd3,Bxd3,cxd3,Nc6,Nc3,e6,O-O,Bd6,Ne5,Nxe5', 'dxe5,Bxe5,Bxe5', 'https://lichess.org/training/wI0ZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wi1jY', 'Rapid', 'arunshanm', 1726, 'bitwisematt', 1728, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Be2,Nxd5,Ne4,Qh4,Nbc3,Nxc3,Nxc3,Bc5,O-O,O-O,a3,Nc6,d3,Nd4,Be3,f5,b4,Bb6,Nd5,f4,Nxb6,Nxe2+,Qxe2,axb6,Bc1,Qg5,Bb2', 'f3,Qxf3,Rxf3', 'https://lichess.org/training/wi1jY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WI7KR', 'Rapid', 'izbyszek', 1878, 'AluyaAtosanda', 2010, 'd4,f5,c4,Nf6,Nc3,e6,Bf4,Bb4,a3,Bxc3+,bxc3,Ne4,Qc2,Qh4,g3,Qe7,Nf3,d6,h4,b6,Ng5,Bb7,Bg2,d5,cxd5,exd5,Nxe4,dxe4,e3,O-O,O-O,c5,Rfd1,cxd4,cxd4,Bd5,Qb2,Nc6,Rac1,Rac8,Bf1,Na5,Qb5,Qe6,Be2,Nb3,Rxc8,Rxc8,Rb1,Nd2,Rb2,Rc1+,Kg2,Nf3,a4,Rg1+,Kh3,g5,hxg5,Rh1+,Kg2,Rh2+,Kf1,Rh1+,Kg2,Rg1+,Kh3,Ne1,Kh2,Rg2+,Kh3,Rxf2,Bh5,Rxb2,Qxb2,Nd3,Qc3,Bc6,a5,Qa2', 'Qxc6,Nf2+,Kh4', 'https://lichess.org/training/WI7KR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WI89C', 'Rapid', 'Ivan20101239', 2209, 'Thierry-5', 1893, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,a6,Be2,d6,O-O,Nf6,f4,O-O,Kh1,e6,Qe1,Qd7,Rd1,d5,e5,Ne4,Nxe4,dxe4,Nf5,Qc7,Nxg7,Kxg7,Qh4,h5,f5,exf5,Qf6+,Kh7,Bxh5,Qxe5', 'Bxg6+,fxg6,Qxf8', 'https://lichess.org/training/WI89C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wi9uK', 'Rapid', 'kingcharlie', 1884, 'alerizzo', 1895, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nge7,O-O,d6,d4,Bd7,Bxc6,Nxc6,dxe5,dxe5,Nc3,Bb4,Bd2,O-O,h3,Nd4,Nxe5,Qe7,Nxd7,Qxd7,Be3,c5,a3,Ba5,b4,Bb6,Na2,Rad8,c3,Ne6,Qc2,Qc7,c4,cxb4,Bxb6,Qxb6,axb4,Nd4,Qb2,Qg6,f3,f5,e5,Qb6,c5,Qe6,f4,Rd5,Nc3,Rd7,Rad1,Rfd8,Na4', 'Nf3+,Rxf3,Rxd1+', 'https://lichess.org/training/wi9uK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WIBen', 'Rapid', 'john2111', 1754, 'Ruxa1981', 1765, 'e4,e6,d3,d5,exd5,exd5,Nf3,Nf6,Be2,c5,Nc3,Nc6,b3,Bg4,O-O,d4,Ne4,Nxe4,dxe4,Bd6,Bb5,O-O,Bxc6,bxc6,Qd3,Re8,Ng5,h6,Nf3,a5,h3,Bh5,Re1,Bg6,Qe2,Rxe4,Qc4,Rxe1+,Nxe1,Qf6,Nf3,Be4,Qe2,Re8,Bb2,Qf4,Re1,Kf8,Kf1,Re7,Bc1,Bxf3', 'Qxe7+,Bxe7,Bxf4', 'https://lichess.org/training/WIBen');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WiC5r', 'Rapid', 'ainkie', 1721, 'SeraB', 1742, 'd4,d5,c4,Nc6,Nf3,Bf5,Nc3,e6,Bg5,Be7,Bxe7,Ngxe7,e3,Nb4,Rc1,dxc4,Bxc4,Ned5,a3,Nxc3,bxc3,Nd5,O-O,O-O,Re1,Nb6,Be2,h6,Qd2,Nd7,Bd3,c5,e4,Bg4,Qf4,Bxf3,Qxf3,cxd4,cxd4,Nf6,e5,Nd5,Qe4,g6,h3,Rc8,Rxc8,Qxc8,Qh4,Kg7,g4,Qc3,Rd1,Nf4', 'Qf6+,Kh7,Qxf4', 'https://lichess.org/training/WiC5r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WIc9t', 'Rapid', 'sai1919k', 1804, 'Raihan71', 1799, 'e4,d5,e5,Nc6,d4,Bf5,a3,e6,h3,Nh6,Bxh6,gxh6,Nf3,f6,Bb5,a6,Bxc6+,bxc6,Nc3,fxe5,Nxe5,Qg5,Qf3,Bd6,Nxc6,O-O,O-O,Bxc2,Qe2,Bb3,Qxe6+,Kh8,Na5,Rg8,g4,Bc2,Qxd5,Qh4,Qg2,Rae8,f4,Bd3,Rf3,Be4,Nxe4,Rxe4,Raf1,Rge8,d5,Re2,R3f2,Bc5,Qf3,Bxf2+,Rxf2,Rxf2,Qxf2,Qxh3,Qd4+,Kg8,Qd1,Qg3+,Kf1,Qxf4+,Kg1,Qg3+,Kf1,Rf8+,Ke2,Qxg4+,Kd2,Qf4+,Kc2,Qa4+,Nb3,Rf2+,Kb1,Qe4+,Ka2,Qe5', 'Qg1+,Qg5,Qxf2', 'https://lichess.org/training/WIc9t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wIDIw', 'Rapid', 'UlviIsmayilov', 1868, 'Oossam', 1754, 'e4,g6,d4,Bg7,c3,d6,Bc4,Nf6,Nd2,O-O,Ngf3,c6,O-O,b5,Bb3,a5,Re1,a4,Bc2,Bg4,h3,Bc8,Nf1,Nh5,e5,dxe5,Nxe5,Bxe5,Rxe5,Ng7,Qe2,Nf5,Bxf5,Bxf5,Rxe7,Be6,Rxe6,fxe6,Qxe6+,Rf7,Bh6,Ra7,Re1', 'Re7,Qxe7,Rxe7', 'https://lichess.org/training/wIDIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wIe4g', 'Rapid', 'Musabseneen', 1775, 'gpIndia', 1705, 'Nf3,d5,d3,Nc6,g3,e5,Bg2,Nf6,O-O,Bf5,Nbd2,h5,h4,Nh7,e4,Be6,exd5,Bxd5,Re1,Bd6,Nc4,f6,a4,g5,Nxd6+,cxd6,hxg5,Nxg5,Nxg5,Bxg2,Ne6,Qe7,Nc7+,Qxc7,Kxg2,O-O-O,Rh1,Qf7,Be3,Qd5+,Kg1,Qf7,a5,d5,Bc5,f5,b4,f4,Qf3,Qg6,b5,Nd4,Bxd4,exd4,Rh3,Rdf8,Qxd5,fxg3,Rxg3,Qf6,Qc5+,Kb8,Rf1,h4,Rg5,h3,Qe5+,Qxe5,Rxe5,Rfg8+,Kh2,Rg2+,Kh1,Rhg8,Ree1,Kc7,Rg1,Kd6,Rxg2,Rxg2,f4,Rf2,Re4,Kd5,Re5+,Kd6,Rh5,Rf3,Kh2,Rxf4,Rxh3,Rf2+,Kg3,Rxc2,Kf3,Kc5,Rh5+,Kb4,a6,bxa6,bxa6,Kc3,Ke4,Ra2,Rc5+,Kb4,Rc6,Kb5,Rh6,Rxa6,Rh5+,Kb4,Kxd4,Rb6,Ke3,a5,d4,a4,Rh2,a3,Ra2', 'Kb3,Ra1,Kb2,Rd1,a2', 'https://lichess.org/training/wIe4g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WIEa9', 'Rapid', 'mansav', 1825, 'Abdulsalamfaraj', 1956, 'e4,e5,Bc4,Nc6,Nf3,Bc5,a3,Nf6,O-O,O-O,d3,h6,Nc3,d6,b4,Bd4,Bb2,Bg4,Rb1,Bh5,Nd5,a6,c3,Ba7,Qe2,b5,Bb3,a5,Rbd1,a4,Ba2,Rb8,d4,Re8,c4,exd4,cxb5,Rxe4', 'Nxf6+,Qxf6,Qxe4', 'https://lichess.org/training/WIEa9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wiFci', 'Rapid', 'T033Y', 1813, 'dionut2255', 1828, 'd4,c5,d5,Nf6,c4,b5,Bg5,d6,Bxf6,exf6,e4,b4,Nf3,Nd7,a3,Qa5,Bd3,g6,Nbd2,Bg7,O-O,O-O,Nb3,Qb6,axb4,Qxb4,Ra5,Rb8,Rb5,Rxb5,cxb5,c4,Nfd4,cxb3,Nxb3,Nc5,Nxc5,Qxc5,Qa4,Bd7,b4,Qc3,Qxa7,Rd8,b6,Qxd3,b7,Qb5,Qa8,Qb6,Ra1,f5,Ra6,Qc7,g3,fxe4', 'Qxd8+,Qxd8,Ra8', 'https://lichess.org/training/wiFci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WIGKZ', 'Blitz', 'SteveL99', 2128, 'Klemenzsky', 2134, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,g4,Bxg4,fxg4,Nxg4,Nxc6,bxc6,O-O-O,Nxe3,Qxe3,Rb8,h4,Qa5,Bc4,Qb4,Bb3,a5,h5,a4,Nxa4,Ra8,Nc3,Rfb8,hxg6,hxg6,Rh3,e6,Rdh1,c5,Rh7,c4,Rxg7+,Kxg7,Qh6+,Kf6,Qh4+,Kg7,Qh6+,Kf6,Qh4+,Kg7,e5,dxe5,Ne4,Rh8', 'Qf6+,Kg8,Qxh8#', 'https://lichess.org/training/WIGKZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wihdy', 'Rapid', 'cosqun88', 1709, 'Bobyfisher66', 1735, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Nc3,Bg4,O-O,Bxc3,bxc3,h5,Qb3,Na5,Qb5+,c6,Qa4,b5,Bxb5,cxb5,Qxb5+,Ke7,e5,Bxf3,exd6+,Kf8,Ba3,Bc6,d7+,Ne7,Bxe7+,Kxe7,Rfe1+,Kxd7,Qf5+,Kc7,Qxf7+,Bd7,Rab1,Qf6,Qd5,Nc6,Qc5,Qd6', 'Rb7+,Kxb7,Qxd6', 'https://lichess.org/training/Wihdy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wIHpm', 'Rapid', 'keselek_sendal', 2033, 'Zamnas', 1883, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nc3,Be7,O-O,O-O,Be3,Nc6,a3,Ne5,Bb3,a6,h3,b5,f4,Nc4,Bxc4,bxc4,Nc6,Qd7,Nxe7+,Qxe7,Qd2,Bb7,Rad1,d5,exd5,exd5,Qf2,Rfe8,Bc5,Qc7,Bb6,Qc6,Rfe1,Rxe1+,Rxe1,Nd7,Bd4,Qg6,g4,Nf6,f5,Qg5,Kh2,Qh6,Qe2', 'Qf4+,Kg2,Qxd4', 'https://lichess.org/training/wIHpm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WIiKs', 'Blitz', 'MihailRodin', 2464, 'AuderExperi', 2531, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Qf3,e6,g4,Qc7,g5,Nfd7,h4,Nc6,Be3,b5,a3,Bb7,h5,Nce5,Qg2,O-O-O,O-O-O,Nc4,Bxc4,Qxc4,Kb1,Nc5,f3,d5,exd5,Bxd5,Nxd5,Rxd5,Qd2,Nd7,Qa5,Kb7,Nb3,Bd6,Qe1,Bc7,Rxd5,Qxd5,Qe2,Rd8,Rd1,Qc6,f4,Kc8,Rd3,g6,hxg6,hxg6,Rc3,Qd5,Rd3,Qc6,Bd4,Nb6,Rc3,Nc4,Be5,Qh1+,Ka2,Bxe5,fxe5,Rd1,Qf2,Qf1,Qa7,Qf4,Nc5', 'Ra1+,Kxa1,Qc1+,Ka2,Qxb2#', 'https://lichess.org/training/WIiKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wiiWv', 'Rapid', 'alakbarovaydin', 1896, 'LastFallenAngel', 1835, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,f3,Bf5,g4,Bg6,d4,Qa5,Bd2,Nc6,Nb5,Qb6,Be3,O-O-O,f4,f5,g5,h6,Nh3,hxg5,Nxg5,Nf6,Qd3,Nd5,Ne6,Rd7,Nc5,Rd8,O-O-O,a6,Nc3,Nxe3,Qxe3,Nxd4', 'Rxd4,Rxd4,Qxd4', 'https://lichess.org/training/wiiWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wIjYJ', 'Rapid', 'LimitBr3k3r', 1827, 'donmanfredo', 1883, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Qe2,Bg4,c3,Bxf3,Bxf3,e6,O-O,Be7,Bg5,Nd7,Bxe7,Qxe7,Rfe1,Qd6,Rad1,O-O,Qc2,Nf6,b3,Rac8,c4,Rfd8,Qc3,Rc7,Rd3,Rcd7,Red1,Qf4,Qa5,Rxd4,Rxd4,Rxd4', 'Qd8+,Rxd8,Rxd8+,Ne8,Rxe8#', 'https://lichess.org/training/wIjYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wIK3O', 'Rapid', 'Absolute__Zher0', 1875, 'akdach', 1869, 'e4,c5,Nf3,d6,b3,g6,Bb2,Nf6,d3,e5,c4,Bg7,Be2,Nc6,Nc3,Nd4,Nd5,Nd7,O-O,O-O,Bc1,Re8,h3,Nf8,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/wIK3O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WiksC', 'Rapid', 'ausuhov', 1671, 'vleeshhd', 2038, 'e4,d6,f4,e5,Nf3,exf4,d4,g5,Bc4,Bg7,O-O,Ne7,Nxg5,d5,Nxf7,Kxf7,exd5,Ng6,Bxf4,Bf6,Be5,Nd7,d6+,Kg7,dxc7,Qe7,Bxf6+,Nxf6,Nc3,Qe3+,Kh1,Ng4,Qe1,Re8,Nd5,Qxe1,Raxe1,Bd7,h3,Nf2+,Kg1,Ne4,Bd3,Ng3,Nf6', 'Rxe1,Rxe1,Kxf6', 'https://lichess.org/training/WiksC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wioHV', 'Rapid', 'bulut10', 1959, 'fcoroli', 2084, 'e4,c5,Nf3,e6,g3,a6,Bg2,Nc6,O-O,Qc7,c3,Nf6,Re1,e5,d4,cxd4,cxd4,d6,Nc3,Bd7,Bg5,Be7,Rc1,Rc8,Bxf6,Bxf6,Nd5,Qd8,Nxf6+,Qxf6,dxe5,dxe5,Re3,Bg4,Rd3,O-O,Rd6,Qe7,Qd3,Rfd8,Rd1,Bxf3,Bxf3,Nd4,Rd5,Rd6,Rxd6,Qxd6,Bg2,Rd8,Qc4,b5,Qd5,Kf8,Qxd6+,Rxd6,f4', 'Ne2+,Kf2,Rxd1', 'https://lichess.org/training/wioHV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WipHC', 'Rapid', 'Malush', 2044, 'scikitlearn', 2011, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,h6,Nc3,b5,Bb3,Bc5,O-O,d6,h3,O-O,Re1,Na5,Be3,Nxb3,axb3,Bb4,Re2,c6,Bd2,Re8,d4,exd4,Nxd4,Qb6,Nf5,Bxf5,exf5,Rxe2,Qxe2,Re8,Qd3,d5,Be3,Qb7,Bd4,Qe7,Rxa6,Bd6,Rxc6', 'Qe1+,Qf1,Bh2+,Kxh2,Qxf1', 'https://lichess.org/training/WipHC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wiQ1j', 'Rapid', 'SlavkoSah', 1925, 'adamsky', 1818, 'e4,d6,f4,f5,e5,e6,d4,dxe5,Nf3,exd4,Bd3,c5,O-O,Nf6,Ne5,Bd6,Qe2,O-O,h3,Nc6,Nd2,Qc7,Ndc4,Ne4,Nxd6,Ng3,Qf3,Nxf1,Ndc4,Ne3,Bxe3,dxe3,Qxe3,Nd4,c3,Nc6,Re1,b5,Nd2,c4,Bc2,Nxe5,fxe5,Bb7,Nf3,Qc6,Re2,Rad8,Nd4,Qd7,b3,f4,Qf2,b4,Nf3,cxb3,Bxb3,bxc3,Qh4,Bd5,Bc2,h6,Qg4,Bxf3,Qg6,Bxe2', 'Qh7+,Kf7,Bg6+,Ke7,Qxg7+,Rf7,Qxf7#', 'https://lichess.org/training/wiQ1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WiRvG', 'Blitz', 'evgshapiro', 1536, 'gonzalin123', 1621, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,c5,d5,Na6,a3,Nf6,Bd3,h6,O-O,Be7,Qe2,Qc8,Rd1,d6,Bb5+,Nd7,Bc6,Bxc6,dxc6,Ndb8,e5,Qxc6,exd6,Bxd6,Nb5,Be7,Ne5,Qb7,Nc4,O-O,Ncd6,Qc6,Bf4,Nd7,c4,e5,Bxe5,Bxd6,Rxd6,Qb7,Rad1,Nxe5,Qxe5,Rfe8,Qg3,Qe4,Kf1', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/WiRvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wItmh', 'Blitz', 'R_guti', 1919, 'Hanyut', 2103, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Ng3,e5,dxe5,Qxd1+,Kxd1,Ng4,Be3,Nxe3+,fxe3,Bc5,e4,Bd4,c3,Bxe5,Nf3,Bxg3,hxg3,Be6,Nd4,Bg4+,Be2,Bxe2+,Kxe2,Nd7,Nf5,O-O', 'Ne7+,Kh8,Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/wItmh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wivrl', 'Blitz', 'igoron_men', 2065, 'DavidLM', 2014, 'e4,c5,Nf3,e6,c3,Nf6,Qc2,d5,e5,Nfd7,d4,Be7,Be2,O-O,Nbd2,Nc6,h4,Qb6,Nb3,a5,a4,Qc7,Rh3,cxd4,cxd4,Bb4+,Kf1,b6,Rg3,Ba6,Bb5,Rfc8,Bh6,Bf8,Rc1,Qb7,Qd3,Nb4,Qd2,Bxb5+,axb5,Rxc1+,Nxc1,g6,Bxf8,Nxf8,Qh6,Qd7,h5,Qxb5+,Kg1,Qc4,hxg6,fxg6,b3,Qc3,Ne2,Qa1+,Kh2,Ra7,Nf4,Nc6,Ng5,Nxd4,Nh5,Nf5', 'Nf6+,Kh8,Qxf8#', 'https://lichess.org/training/Wivrl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wiw7z', 'Classical', 'Alex_Kolesnikov', 1986, 'dr_Mallaco', 1951, 'e4,c5,Nf3,Nc6,d4,Nxd4,Nxd4,cxd4,Qxd4,d6,Nc3,e5,Qd1,Nf6,Bg5,Be7,Bc4,h6,Bxf6,Bxf6,O-O,O-O,Qd3,Bd7,Qxd6,b5,Bxb5,Bxb5,Qxd8,Rfxd8,Nxb5,Rd2,Rac1,a6,Nc3,Rb8,b3,Rc8,Rfd1,Bg5,Na4,Rxd1+,Rxd1,Rxc2,Ra1,Re2,f3,Be3+,Kh1,Bd4,Rb1,Rxa2,h3,a5,Kh2,h5,Rc1,h4,Nc5,Be3,Rc4,Rb2,Rc3,Bf4+,Kg1,Bd2,Rc4,Be3+,Kh2,Bf4+,Kg1,Be3+,Kh2,f6,Rc3,Bd4,Rc4,Kh7,Rc1,Kg6,Rc4,Kg5,Rc1,Kf4', 'Nd3+,Ke3,Nxb2', 'https://lichess.org/training/Wiw7z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wIwgl', 'Blitz', 'ChessMaster0431', 1559, 'SteveEduardo', 1515, 'e4,e6,d4,d5,e5,Nc6,Nf3,Be7,c3,Bd7,Bd3,f6,Qe2,fxe5,Nxe5,Nxe5,Qxe5,Nf6,O-O,O-O,Nd2,a6,Nf3,Bd6,Qg5,Bb5,Bxb5,axb5,h4,Qe8,Re1,c5,dxc5,Bxc5,Ne5,Bxf2+,Kf1,Ne4,Rxe4,Bxh4+,Qf4,Rxf4+,Rxf4,Qh5,Bd2,Rxa2,Rxa2', 'Qd1+,Be1,Qxe1#', 'https://lichess.org/training/wIwgl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wiwPN', 'Blitz', 'pramd', 1857, 'Vishyanand522', 1541, 'e4,c5,Bc4,Nc6,Qh5,e6,Qf3,Nf6,d3,d5,exd5,exd5,Bb3,Bg4,Qe3+,Be7,f3,Bh5,c3,Qc7,Ne2,O-O-O,O-O,Bd6,h3,Bg6,Qf2,Bf5,Na3,Bh2+,Kh1,Nh5,g4,Ng3+,Nxg3,Bxg3,Qg2,Be6,Nb5,Qb8,f4,Bh4,Bd2,h5,g5,f6,Be1,Bxe1,Raxe1,Bd7,Bxd5,Nb4,cxb4,Bxb5,Re7', 'Rxd5,Qxd5,Bc6,Qxc6+,bxc6', 'https://lichess.org/training/wiwPN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wIXbB', 'Classical', 'Kyloiron', 2160, 'gomer1377', 1898, 'd4,e6,c4,h6,Nc3,Bb4,e4,Nf6,e5,Ne4,Qc2,d5,cxd5,exd5,Bd3,Bf5,Ne2,Qh4,O-O,Bxc3,bxc3,O-O,f3,Bg6,fxe4,dxe4,Bc4,c6,Ba3,Rd8,Nf4,Bf5,e6,fxe6,Nxe6,Bxe6,Bxe6+,Kh8,Rf7,Na6,Raf1,c5,Bxc5,Nxc5,dxc5,e3,Qf5,e2,Qg6,exf1=Q+,Rxf1,Qg5,Qxg5,hxg5,Rf5,Rd3,Rxg5,Kh7', 'Bf5+,Kh6,Rg6+', 'https://lichess.org/training/wIXbB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wIXFE', 'Rapid', 'SHUDE_17RUS', 1713, 'talant-007', 1667, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,Nf3,f6,Be3,Qb6,Na4,Qa5+,Nc3,Bd6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ne7,Nd2,O-O,Qf3,Qb6,Nb3,c4,Na4,Qb5,Nc3,Qb6,Nc5,Qxb2,Nxd5,Nxc5,Nxe7+,Bxe7,Qd5+,Kh8,dxc5,Qxc2,Rac1,Qxa2,Qxb7,Rfe8,h3,Rab8,Qd5,Rbc8,c6,Red8,Qe6,Qa4,Rxc4,Qa6,Qxe7,Qxc4,Rc1,Re8', 'Qxe8+,Rxe8,Rxc4', 'https://lichess.org/training/wIXFE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WixgY', 'Rapid', 'Elodonor', 1765, 'Deepbluechen', 1769, 'e4,c5,Nc3,e6,f4,a6,a4,Qc7,d3,d6,Nf3,Nf6,Be2,Be7,O-O,Bd7,Qe1,Nc6,Qg3,O-O,b3,b6,Bb2,Nb4,Bd1,Rac8,Ng5,h6,Nh3,d5,e5,Nh7,Ne2,f6,c3,Nc6,d4,c4,b4,b5,Bc2,f5,a5,Qd8,Qf2,Qe8,Ng3,Bh4,Qf3,Bxg3,hxg3,Qf7,Kf2,Qg6,Ke3,Be8,Nf2,Qh5,g4,fxg4,Nxg4,Bg6,Rh1,Qxh1,Rxh1,Bxc2,Kd2,Be4,Qh3,Bg6,Nxh6+,gxh6,Qxh6,Bf5,g4,Be4,f5,Bxh1,Qxh1,exf5,g5,Kg7', 'Qh6+,Kg8,g6', 'https://lichess.org/training/WixgY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wiyuC', 'Rapid', 'loosergambler', 2147, 'Testownia_openingow', 2122, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,Be3,a6,a3,b5,Be2,Nf6,O-O,Bd6,f4,Nxd4,Qxd4,e5,fxe5,Bxe5,Nd5,Nxd5', 'Qxd5,O-O,Qxa8,Bxh2+,Kh1', 'https://lichess.org/training/wiyuC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WiYWF', 'Classical', 'juantwo3', 1814, 'JGGamer21', 1910, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,Bb4,a3,Bxc3+,bxc3,Nxe4,Qg4,Nf6,Qxg7,Rg8,Qh6,Rg6,Qh3,d5,Bd3,e5,Nf5,e4,Be2,Qd7,g4,Nxg4', 'Bxg4,Rxg4,Qxg4', 'https://lichess.org/training/WiYWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WiZci', 'Blitz', 'sitoizm', 1637, 'aleck_b', 1560, 'd4,e6,c4,c5,dxc5,Qa5+,Bd2,Qxc5,Nf3,Qxc4,Nc3,a6,e4,Qc7,Bd3,b5,O-O,Nc6,Bc2,h6,a3,g5,Bxg5,hxg5,Nxg5,Be7,f4,f6,Nf3,Qb6+,Kh1,Bb7,e5,f5,Ng5,Nh6,Qh5+,Kf8,Qg6,Bxg5,Qxg5,Nf7,Qf6,Rg8,Ne2,Ne7,Ng3,Bd5,Rad1,Qc6,Bd3,Bxg2+,Kg1,Bxf1,Bxf1,Nd5,Bg2,Qc5+,Kh1,Re8,Qh4,Ne3,Rxd7,Qc1+,Nf1,Nxf1', 'Rxf7+,Kxf7,Qf6#', 'https://lichess.org/training/WiZci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WizFb', 'Rapid', 'spielman641', 1649, 'mpoole1958', 1613, 'd4,c5,d5,d6,e4,a6,Nf3,Bg4,Be2,Nd7,Bf4,Ngf6,Nc3,g6,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe2,Qxe2,Bg7,d6,e6,Rd1,Qd7,O-O,O-O,Ne4,Nxe4,Qxe4,Bxe5,Qxe5,Rad8,Qxc5,Rc8,Qb4,Rxc2,a4,Rd8,Rd3,Rdc8,h3,R8c4,Qb3,Rc1,Rxc1,Rxc1+,Kh2,Rc6,Qb4,a5,Qf4,b6,h4,Rc5,g4,Rc2,b3,Rc5,h5,gxh5,gxh5,Rxh5+,Kg3,Rf5,Qg4+,Kh8,Qd4+,f6,Qxb6,Qg7+,Kh2,Qh6+,Rh3,Qf4+,Rg3', 'Rh5+,Kg2,Qe4+', 'https://lichess.org/training/WizFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WIzFM', 'Blitz', 'Kobylka', 2109, 'drunz1997', 2155, 'g3,c5,Bg2,Nc6,Nf3,g6,d3,Bg7,Nbd2,d5,e4,e5,c3,Nge7,h3,Be6,O-O,O-O,Ng5,Bc8,Qc2,h6,Ngf3,f5,Nh4,Kh7,Kh2,f4,exd5,Nxd5,Be4,Nce7,d4,fxg3+,fxg3,Ne3,Bxg6+,Kh8,Rxf8+,Qxf8,Qe4,Qf2+,Kh1,Bxh3,Ndf3,cxd4,cxd4,exd4,Bxe3,dxe3,Re1,Nxg6,Nxg6+,Kg8,Nfh4,Qxe1+,Kh2,Qf1,Ne7+,Kf8,Neg6+,Kg8,Ne7+,Kh8,Nhg6+,Kh7,Nf4+,Kh8', 'Nfg6+,Kh7,Nf8+,Kh8,Qh7#', 'https://lichess.org/training/WIzFM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wizFY', 'Blitz', 'FM FedaMaster', 2595, 'iocomunicoPUNTOnet', 2271, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,O-O,e5,dxe5,fxe5,Nh5,Bc4,c5,dxc5,Qa5,a3,Qxc5,Qd5,Qb6,Qb5,Qc7,Nd5,Qd8,Bg5,Nc6,O-O-O,a6,Qc5,Kh8,Nb6,Qc7,Nxa8,Qb8,Nb6,Nxe5,Nxe5,Bxe5,Bxe7,Re8,Bd6,Bxd6,Qxd6,Qxd6,Rxd6,Bf5,Rhd1,Kg7,h3,Nf4,g4,Be4,Re1,f5,gxf5,gxf5,Nd5,Nxh3,Nc7,Rc8,Ne6+,Kf6,Bd5', 'Rxc2+,Kb1,Re2+,Bxe4,Rxe1+', 'https://lichess.org/training/wizFY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WJ0vz', 'Blitz', 'SugeKnight79', 1894, 'mmasil', 1786, 'd4,e6,e4,c6,Nc3,a6,Bd3,d5,e5,c5,Nce2,cxd4,Nxd4,b5,Nge2,Bb7,O-O,Qc7,Bf4,Ne7,Rc1,Nec6,c3,Nxe5,Ng3,Bd6,Bxe5,Bxe5,Nf3,O-O,Ng5,g6,Qg4,Bf4,Nh5,Bxg5,Qxg5,Nd7,Nf4,e5,Nh3,e4,Be2,Qe5,f4,Qxg5,fxg5,Rfe8,Nf4,Re5,h4,Rf5,g4,Re5,Rcd1,Nb6,b3,Rc8,c4,bxc4,bxc4,Nxc4,Bxc4,Rxc4,Rc1,Bc6,Rxc4,dxc4,Rc1,Bb5,a4,Bxa4,Rxc4,Bb5,Rc8+,Kg7,h5,gxh5', 'Nxh5+,Kg6,Rg8#', 'https://lichess.org/training/WJ0vz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wj3jW', 'Rapid', 'CaHe4eK1989', 1938, 'murat055', 1861, 'e4,e6,d4,d5,e5,c5,Qg4,cxd4,Nf3,Bb4+,Nbd2,Bxd2+,Bxd2,g6,Nxd4,Qb6,Bc3,Bd7,Qf3,Nc6,Nxc6,Bxc6,Qd3,a6,Be2,Ne7,Bd4,Qb4+,Bc3,Qb6,O-O,Bb5,Qf3,Bxe2,Qxe2,Nc6,Kh1,Qc5,Rad1,b5,f4,b4,Bd2,Nd4,Qe3,Rc8,c3,bxc3,Bxc3,Nf5,Qf3,Ne3', 'Bd4,Qxd4,Rxd4', 'https://lichess.org/training/Wj3jW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJ3PU', 'Blitz', 'FM Keipo', 2214, 'Mata_Leyendas', 2303, 'd4,d5,Bf4,e6,e3,Bd6,Bxd6,Qxd6,a3,f5,Nf3,Nf6,c4,Nbd7,Nc3,c6,Bd3,Ne4,Rc1,O-O,O-O,a5,c5,Qc7,b4,axb4,a4,e5,Na2,Nc3,Nxc3,bxc3,Be2,e4,Ne1,f4,Rxc3,Nf6,Ra3,fxe3,fxe3,Be6,Nc2,Rf7,Qe1,Raf8,Qh4,Qa5,Qe1,Qc7,Qh4,Qa5,Qe1,Qd8,Qh4,Nd7,Qxd8,Rxf1+,Bxf1,Rxd8,Rb3,Rb8,a5,Kf7,Nb4,Ke8,Rb2,Ra8,a6,bxa6,Nxc6,a5,Ra2,a4,Ra3,Nf6,Ne5,Bd7,Nxd7,Kxd7,Bb5+,Kc7,h3,Ra5,Bxa4,Nd7,Ra2,Nb8,Bb3,Rxa2,Bxa2,Kc6,Kf2,Na6,Kg3,Nb4,Bb1,h6,Kf4,Nd3+,Kf5,Ne1,g4,Ng2,Kg6,Nxe3,Kxg7,Ng2,Kxh6', 'e3,Bd3,Nf4,g5,Nxd3,g6,e2,g7,e1=Q', 'https://lichess.org/training/wJ3PU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WJ5yX', 'Classical', 'secaje06', 1961, 'Tigerchess88', 1893, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,g3,O-O,Bg2,e5,d5,Nbd7,Nge2,Ne8,O-O,f5,f3,Nc5,b4,Nd7,Be3,c5,dxc6,bxc6,Qb3,Kh8,Rad1,Qc7,a3,Rb8,b5,cxb5,cxb5,Nc5,Qb2,a6,a4,Qa5,Ra1,Nd3,Qd2,Nc5,Rfb1,Be6,Bxc5,dxc5,Rd1,axb5,axb5,Qb6', 'Ra6,Qc7,Rxe6', 'https://lichess.org/training/WJ5yX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WJ6iD', 'Blitz', 'leonidgeld', 1582, 'FernandoCombinations', 1625, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,e5,d4,e4,Be3,Nf6,Nc3,Bb4,Ne2,O-O,a3,Ba5,Ba2,Bg4,O-O,Bxc3,bxc3,Nbd7,Qd2,Rc8,Ng3,Nb6,h3,Be6,Bg5,Nbd7,f3,Qc7,Bf4,Qxc3,Qxc3,Rxc3,Bb3,exf3,gxf3,Bxh3,Kf2,Nb6,Rh1,Be6,Be5,Nfd7,Nh5,Nxe5,dxe5,Bf5,Rhg1,g6,Nf6+,Kh8,Rh1,h5,Nxh5,gxh5,Rxh5+,Bh7,Rah1,Kg7,Rxh7+,Kg6,R7h6+,Kf5', 'R1h5+,Kf4,Rf6#', 'https://lichess.org/training/WJ6iD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WJ8qC', 'Blitz', 'akaa19', 2011, 'drago_hadrovic', 2056, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Qd3,b6,Nc3,Bb7,Be3,Nf6,f3,O-O,Qd2,Nc6,Nb3,Rc8,h4,Qc7,O-O-O,Nh5,g4,Ng3,Rh3,Nxf1,Rxf1,Nb4,h5,g5,Bd4,e5,Be3,h6,Bxg5,hxg5,Qxg5,Qd6,h6,Qf6,Qh5,Bh8,h7+,Kg7,g5,Qg6,Qg4,f6,Rh6,Qxg5+,Qxg5+,fxg5,Rh5,Kg6,Rfh1,Bg7,Kd2,Rh8,Ke3,Nxc2+,Kf2,Rcf8,Kg3,Rf4,Nd2,Nd4,R5h3,b5,a3,a5,b4,axb4,axb4,Nc2,Nxb5,Nxb4,Nd6,Bc6,Nf5,Nc2,Nc4,Nd4,Rh6+,Bxh6', 'Rxh6+,Kf7,Ncd6+,Kf8,Rf6#', 'https://lichess.org/training/WJ8qC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJ8sK', 'Classical', 'ahmetlovesworld', 1812, 'el_perro_orfeo', 1841, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Nf6,a3,Bd6,d4,Bg4,Qd3,Bxf3,gxf3,O-O,f4,exd4,Qxd4,Bxf4', 'Qxd8,Raxd8,Bxf4', 'https://lichess.org/training/wJ8sK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJ9lR', 'Rapid', 'LilStyle', 1722, 'ItsSpiRo', 1768, 'e4,e5,d4,Nc6,c3,Nf6,Bd3,exd4,Nf3,dxc3,Nxc3,d6,O-O,Bg4,Qb3,Bxf3,Qxb7,Ne5,gxf3,Nxd3,Qb5+,Qd7,Qxd3,Be7,Re1,O-O,Kf1,Nh5,Ke2,Qh3,Rg1,Qxh2,Be3,Rab8,b3,Bf6,Rac1,Be5,Nd5,c6,Ne7+,Kh8,Nxc6,Rbc8,Rh1', 'Ng3+,Kd2,Nxh1', 'https://lichess.org/training/wJ9lR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WjA31', 'Rapid', 'DoctorBlue', 2023, 'Dr_Dmitriy7', 1985, 'd4,d5,Bf4,Bf5,Nf3,e6,e3,Nf6,c4,Bb4+,Nc3,Ne4,Rc1,c5,cxd5,Qxd5,a3,Bxc3+,bxc3,c4,Qa4+,b5,Qa6,O-O,Be2,h6,O-O,g5,Bg3,h5,Bxb8,Raxb8,Ne5,g4,Qc6,Qd8,Qd7,Qh4,Nc6,Rbc8,Ne7+,Kh8,Nxc8,Nd2,Rfd1,Nf3+,Bxf3,gxf3,Qe7,Qg4,Qxf8+,Kh7,Qxf7+,Kh8,Qf6+,Kh7,Kf1', 'Qxg2+,Ke1,Qg1+,Kd2,Qxf2#', 'https://lichess.org/training/WjA31');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WJaek', 'Rapid', 'ndalatando', 1601, 'michbon1', 1640, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Bb5+,Bd7,Qe2+,Be7,Bf4,O-O,O-O-O,Bxb5,Nxb5,c6,Nd4,Rc8,Nf5,Re8,Qf3,Bf8,Qg3,Kh8,Bd6', 'Ne4,Bxf8,Nxg3', 'https://lichess.org/training/WJaek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wjb2U', 'Rapid', 'mooe', 1989, 'barti12', 1860, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,c4,Qd8,Be2,Bf5,d4,c6,Nf3,Nd7,O-O,h6,d5,cxd5,cxd5,Nb6,Bb5+,Bd7,Bxd7+,Qxd7,d6,Rd8,Bf4,exd6,Re1+,Be7,Qd4,O-O,Rad1,d5,Ne5,Qf5,Re3,Bf6,Rg3,Kh8,Qe3,g5,Bxg5,Bxg5,f4,Bxf4,Qf3,Qxe5,Rh3,Bg5,Kh1,Rde8,Rf1,Nc4,Qh5,Nd2,Rg1,Be3,Qh4,Bxg1', 'Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/Wjb2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WJbCE', 'Rapid', 'Wetostemmoskrusnos', 1980, 'Tjodes', 2037, 'e4,e5,f4,exf4,Bc4,h6,Nf3,g5,Ne5,Rh7,d4,d6,Nxf7,Rxf7,Bxf7+,Kxf7,Qh5+,Kg7,Nc3,Nf6,Qf3,Bg4,Qf2,Nc6,O-O,a6,Bd2,Qd7,Rae1,Re8,Bxf4,gxf4,Qxf4,Be7,e5,dxe5,dxe5,Qd4+', 'Qxd4,Nxd4,exf6+,Bxf6,Rxe8', 'https://lichess.org/training/WJbCE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJBeE', 'Rapid', 'WilKellermanChess', 2336, 'Ikills', 2250, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,O-O-O,Nc3,Qd7,d3,e5,Nxe5,Nxe5,Bf4,Bxe2,Qxe2,Nc6,Nb5,Bd6,Nxd6+,cxd6,b4,Nf6,b5,Nd4,Qe3,Ne6,Qxa7,Qc7,Be3,Nd5,a4,b6', 'Qa8+,Kd7,Qxd5', 'https://lichess.org/training/wJBeE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WjcIk', 'Rapid', 'skreyper85', 1881, 'mh1347', 1795, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Qe7,Qb3,Qxe4+,Ne2,Qe7,Nc3,Nc6,Nd5,Qd6,Ba3,Qe5,O-O,Bxa3,Qxa3,Nge7,Nxe7,Nxe7,Rfe1,Qd6,Qb2,O-O,Rad1,Qc5,Bb3,c6,Nf4,Qg5,Nh3,Qf6', 'Qxf6,gxf6,Rxe7', 'https://lichess.org/training/WjcIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WjCzU', 'Rapid', 'Kakwas', 2184, 'sergeyHck', 1987, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Bd3,Nf6,Qe2,Be7,O-O,O-O,c4,Bb7,e5,Ne8,Rd1,f6,Nc3,fxe5,Qxe5,Bf6,Qe4,g6,c5,d5,Qxe6+,Kg7,Qh3,Nc7,Bh6+,Kg8,Bxf8,Qxf8,Na4,Bc8,Qg3,Ne6,Rac1,Bd4,b4,Nf4,Rc2,Nxd3,Qxd3,Bg7,Re2,Bf5,Qe3,Rb8,a3,a5,Nb6,axb4,axb4,Be4,f3,Bf5,g4,Bh6,Qe7,Qxe7,Rxe7,Bc2,Rde1,d4,Re8+,Rxe8,Rxe8+,Kf7,Rd8,d3,b5,cxb5,c6', 'Be3+,Kg2,Bxb6,c7,Bxc7', 'https://lichess.org/training/WjCzU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wjd8H', 'Blitz', 'dont_blunder', 2664, 'IM Toro123', 2593, 'd4,d5,c4,e6,Nf3,a6,g3,dxc4,Bg2,b5,O-O,Bb7,Qc2,Nd7,b3,cxb3,axb3,Ngf6,Nc3,c5,Rd1,Rc8,d5,Nxd5,Nxd5,exd5,Nh4,Qb6,Bxd5,Bxd5,Rxd5,Be7,Nf5,g6,Bb2,Rg8,Ng7+,Rxg7,Bxg7,Bf6,Bxf6,Nxf6,Rd2,c4,Rad1,Rc6,bxc4,bxc4,Qa4,Kf8,Rd8+,Kg7,Qa3,Rc5,Qc3,Qb3,Qd4,Rc6,Qe5,Re6,Qc5,Re8,Rxe8', 'Qxd1+,Kg2,Nxe8', 'https://lichess.org/training/Wjd8H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WjeA1', 'Classical', 'Crag22', 1757, 'valid-username', 1638, 'd4,Nf6,c4,d5,Nc3,e6,Nf3,dxc4,e3,Nd5,Bxc4,Nd7,O-O,N7b6,Qb3,Nxc4,Qxc4,Bb4,Bd2,Bxc3,Bxc3,Nxc3,bxc3,O-O,a4,a6,Rfd1,b5,axb5,Qd5,Qd3,Qxb5', 'Qxb5,axb5,Rxa8', 'https://lichess.org/training/WjeA1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WjEU0', 'Rapid', 'anuj_98', 1928, 'FA64', 1983, 'd4,c5,d5,d6,c4,e5,e4,Ne7,Nc3,f5,Bd3,f4,f3,Ng6,Nge2,Be7,g3,Na6,a3,Bg5,h4,Bf6,h5,Ne7,gxf4,Ng8,Be3,Bh4+,Kd2,Bd7,fxe5,dxe5,f4,Bf6,f5,Nh6,Qg1,Qe7,Rh3,O-O-O,Qd1,Kb8,Rg3,Nf7,Nb5,Rc8,Qb1,Nc7,b4,Nxb5,cxb5,c4,Bc2,Nd6,a4,g6,hxg6,hxg6,fxg6,Rh2,Qg1,c3+,Kc1', 'Rxe2,Bxa7+,Ka8', 'https://lichess.org/training/WjEU0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WjeUG', 'Blitz', 'FM Doubleb17', 2453, 'ITSmePaul030104', 2377, 'e4,e6,d4,d5,e5,c5,Nf3,Qb6,Bd3,Bd7,O-O,Bb5,c4,dxc4,Be4,Bc6,d5,Bxd5,Bxd5,exd5,Qxd5,Ne7,Qxc4,Nbc6,Nc3,g6,Ng5,Nxe5,Qe4,Bg7,Bf4,Qf6,Qxb7,O-O,Bxe5,Qxe5,Nf3,Qf6,Ne4,Qf5,Ng3,Qf6,Rfe1,Nf5,Ne4,Qxb2,Qxb2,Bxb2,Rab1,Bd4,g4,Ng7,Rb7,Ne6,Nxd4,cxd4', 'Nf6+,Kg7,Rxe6', 'https://lichess.org/training/WjeUG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WjH1u', 'Rapid', 'Pasha_LaFlare', 1665, 'JulianAlbacete', 1672, 'e4,c5,d4,cxd4,c3,e6,cxd4,d6,Nc3,Nf6,Nf3,Be7,Bc4,O-O,O-O,Qc7,Qe2,a6,e5,dxe5,dxe5,Nfd7,Rd1,Nc6,Bf4,f6,exf6,Qxf4,fxe7,Nxe7,Bxe6+,Kh8,Bxd7,Bxd7,Rxd7,Nf5,Rad1,Rae8,Qd3,Qg4,Rd8,h6,Rxe8,Rxe8,Qd5,Ne7,Qxb7,Ng6,Qd5,Nf4,Ne5,Rxe5,Qf3,Qe6,Qa8+,Kh7,g3', 'Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/WjH1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wjhlI', 'Rapid', 'MrCalpar', 1883, 'Just-Testing', 1787, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Re1,Nge7,Nc3,Bg4,Bf4,O-O,d5,Nb4,Bb3,Ng6,Be3,Bxe3,Rxe3,Ne5,Qd4,Nxf3+,gxf3,c5,dxc6,Nxc6,Qd2,Be6,Rd1,Bxb3,axb3,Na5,Nb5', 'Qg5+,Kh1,Qxb5', 'https://lichess.org/training/wjhlI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJIdG', 'Blitz', 'urundeymi', 1512, 'CagnusMarlsenMG', 1519, 'g3,e5,Bg2,Nf6,Nf3,d5,O-O,e4,Nd4,c5,Nb3,c4,Nd4,Qd7,e3,Nc6,Nxc6,bxc6,b3,Ba6,bxc4,Bxc4,Re1,Bd6,d3,exd3,cxd3,Ba6,Qc2,h5,Bb2,h4,Bxf6,gxf6,Qb2,Qe6,Nc3,hxg3,fxg3,Kd7,e4,Bxd3,exd5,Bc5+,Kh1', 'Rxh2+,Kxh2,Rh8+,Bh3,Qxh3#', 'https://lichess.org/training/wJIdG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WJj0i', 'Blitz', 'show_me_patzer', 1877, 'KATZPAROV', 1868, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Bxf3,Bxf3,Qe5+,Qe2,Qxe2+,Kxe2,c6,d4,e6,Bf4,Nf6,c4,Nbd7,Nc3,Bb4,Rab1,Bxc3,bxc3,O-O-O,Rb4,e5,dxe5,Nxe5,Rhb1,Rhe8,Rxb7,Nxc4+,Kf1,Nd2+,Bxd2,Rxd2,Rb8+,Kc7,R8b7+,Kd6,Rxa7,Ne4,Rd1', 'Rxd1+,Bxd1,Nd2+,Kg1,Re1#', 'https://lichess.org/training/WJj0i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJJ73', 'Blitz', 'YnBlk64squares', 1664, 'Gottyyy', 1629, 'd4,Nf6,e3,d5,Nf3,Ne4,Nc3,f5,Bd2,e6,Ne5,Nd7,f4,c6,Bd3,Bd6,O-O,O-O,Bxe4,fxe4,Qg4,Nf6,Qg3,Qe8,Ne2,Qh5,h3,Qxe2,Rf2,Qh5,Raf1,Bxe5,fxe5,Nd7,Rxf8+,Nxf8,Qf4,Bd7,g4,Qh6', 'Qf7+,Kh8,Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/wJJ73');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJKhX', 'Classical', 'LS93', 2095, 'tugodum777', 1848, 'd4,f5,c4,g6,Nc3,Bg7,Nh3,Nf6,g3,Nc6,d5,Ne5,Qb3,h6,Bg2,g5,O-O,Nf7,e4,d6,exf5,Bxf5,Qxb7,Rb8,Qxa7,Qc8,Nb5,Bxh3,Nxc7+,Kf8,Bxh3,g4,Ne6+,Kg8,Bg2,Rb7,Qa6,Ne5,Nd8,Nf3+,Kh1,Qxd8,Qxb7,Qe8,h4,Ne4,Bf4,Bf6,Bxf3,gxf3,Rae1,Qg6,Qc8+,Kh7,Qe6,Ng5,hxg5,Qh5+,Kg1,hxg5,g4,Qh3,Qf7+,Kh6,Qh5+,Qxh5,gxh5,gxf4,Re4,Kxh5,Rb1,Kg4,b4,Rg8,Re6,Kh3+,Kf1', 'Kh2,Ke1,Rg1+,Kd2,Rxb1', 'https://lichess.org/training/wJKhX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WJKY6', 'Rapid', 'ShnyMola', 1686, 'Pavel_Rolbott', 1675, 'e4,f5,exf5,Nf6,g4,h6,d4,d5,g5,hxg5,Bxg5,Bxf5,Be2,Qd6,Nf3,Qb4+,Nc3,Qxb2,Nb5,Bxc2,Qc1,Qb4+,Bd2,Qa4,Nxc7+,Kd8,Nxa8,e6,Ne5,Ba3,Ba5+', 'Qxa5+,Qd2,Bb4,O-O,Bxd2', 'https://lichess.org/training/WJKY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJlDx', 'Rapid', 'Glaude1', 1756, 'HurTS', 1824, 'd4,d5,Nf3,Nf6,c4,e6,Bf4,c5,dxc5,Bxc5,cxd5,exd5,e3,O-O,Be2,Nc6,O-O,Bd6,Bxd6,Qxd6,Nc3,Be6,Nd4,Nxd4,Qxd4,a6,a3,h6,Rac1,Rac8,Bf3,Rc4,Qd2,Bg4,Qe2,Be6,Rfd1,Rd8,h3,Rb8,Rd4,Rxd4,exd4,Re8,Qd3,Qf4,Re1,g6,g3,Qg5,Kg2', 'Bxh3+,Kxh3,Rxe1', 'https://lichess.org/training/wJlDx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WjLkQ', 'Rapid', 'fernandocoto', 2193, 'armin55', 2100, 'd4,d5,c4,dxc4,Nf3,Nf6,Nc3,c5,e3,cxd4,exd4,Bg4,Qa4+,Bd7,Qxc4,e6,Ne5,Nc6,Nxd7,Qxd7,Be3,O-O-O,O-O-O,Kb8,Kb1,Nb4,Be2,Rc8,Bf4+,Ka8,Qb3,Nbd5,Bb5,Rxc3,bxc3,Nxc3+,Qxc3,Qxb5+,Qb3', 'Qf5+,Qc2,Qxf4', 'https://lichess.org/training/WjLkQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wjmM3', 'Rapid', 'heinmir', 2097, 'Alvarez9000', 1966, 'c4,b6,Nc3,Bb7,e4,Nf6,d3,e6,Nge2,d5,e5,Nfd7,d4,c5,cxd5,cxd4,dxe6,dxc3,exd7+,Qxd7,Nxc3,Qxd1+,Kxd1,Bc5,f3,O-O,Kc2,Re8,Bf4,Bd4,Ne2,Bxe5,Bxe5,Rxe5,Nc3,Ba6,Bxa6,Nxa6,a3,Rc8,Rhd1,Re2+,Rd2,Rxd2+,Kxd2,Rd8+,Kc2,f6,Re1,Kf7,b4,Nc7,Re4,Ne6,Kb3,Rd2,Ne2,a5,bxa5', 'Nc5+,Kc3,Nxe4+', 'https://lichess.org/training/wjmM3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJMWV', 'Rapid', 'theco', 1635, 'awengar', 1639, 'Nf3,d5,g3,c6,d3,Bg4,Bg2,e6,O-O,h6,c4,Nf6,Nc3,a6,a3,b5,cxb5,cxb5,b4,Bd6,Bb2,Nbd7,Rc1,O-O,Nb1,Bxf3,Bxf3,Be5,Bxe5,Nxe5,Bg2,Qb6,Nd2,a5,Nf3,Nxf3+,Bxf3,axb4,axb4,Qd4,Qb3,Ra4,Rb1,Rc8,Rfd1,Rc3,Qb2,e5', 'e3,Qxb4,Qxb4,Rxb4,Rxb4', 'https://lichess.org/training/wJMWV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJoEg', 'Rapid', 'Rio2005', 2453, 'neo626', 1697, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qc7,Bd3,Nf6,Qe2,Bg4,f3,Bh5,Nh3,Bg6,Bxg6,hxg6,Nf4,Nbd7,O-O-O,O-O-O,Rhe1,Nb6,Be3,Nfd5,Nfxd5,Nxd5,Nxd5,Rxd5,c4,Ra5,Kb1,e6,d5,exd5,cxd5,Bb4,Bd2,Bxd2,Rxd2,Rxd5', 'Rxd5,cxd5,Rc1', 'https://lichess.org/training/wJoEg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wjpCk', 'Rapid', 'alvaro1033', 1738, 'dalverpr', 1805, 'e3,e5,Nf3,e4,Nd4,d5,a3,Nf6,b4,b6,Bb2,c5,Nb3,cxb4,axb4,Bxb4,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,O-O,Kh1,Nc5,Nxc5,bxc5,d4,c4,c3,Bd6,Na3,a6,Nc2,Qd7,Ba3,h6,Qd2,a5,Rfb1,Rfb8,g3,Ng4,Bxd6,Rxb1+,Rxb1,Qxd6,Qe2,h5,Ra1,Qf6,Kg2,Qf3+,Qxf3,exf3+,Kxf3,Nxh2+,Kg2,Ng4,Nb4,Nf6,Nc6,a4,Ra3,Kf8,Ne5,Ne4,Nd7+,Ke7,Nb6,Ra5,Rxa4,Rb5,Rb4,Nxc3,Rxb5,Nxb5,Nxd5+,Kd6,Nb4,c3,Kf3,Na3,e4,c2,Nd3,f5,exf5,Kd5,Ke3', 'Nc4+,Kf4,Kxd4', 'https://lichess.org/training/wjpCk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wjpG9', 'Rapid', 'alwayslose00', 1912, 'Sofia_tj', 1908, 'e4,e5,Bc4,d6,d4,exd4,Qxd4,c5,Bxf7+,Kxf7,Qd5+,Ke8,Nc3,Nf6,Qc4,Nc6,Nf3,Qe7,O-O,Be6,Nd5,Bxd5,exd5,Ne5,Qb5+,Qd7,Qe2,Kd8,Ng5,Nxd5,Rd1,Be7,Rxd5,Bxg5,Bxg5+,Kc7,Rad1,Rae8,Bf4,Ng6,Bxd6+,Qxd6,Rxd6,Rxe2,Rd7+,Kb6,R1d6+,Ka5,g3,Rxc2,Rxb7,Ra8,Rc6,Ne5', 'b4+,cxb4,Rxc2', 'https://lichess.org/training/wjpG9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJPMc', 'Classical', 'Silver124', 1963, 'RAJEECK', 1824, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,a6,Nf3,Be7,Bc4,b5,Bb3,Bb7,Qe2,c5,Bb2,c4,Bc2,O-O,O-O,f5,exf5,exf5,Ne5,Qd5,f3,Nc6', 'Nxc6,Bxc6,Qxe7', 'https://lichess.org/training/wJPMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJRgF', 'Rapid', 'Mendocino', 1695, 'Magistrator', 1721, 'e4,c5,Bc4,e6,Nf3,Nc6,O-O,Be7,d4,d5,exd5,exd5,Bb5,Nf6,Ne5,Qb6,Bxc6+,bxc6,c3,cxd4,cxd4,O-O,Nc3,Be6,Na4,Qc7,Nc5', 'Bxc5,dxc5,Qxe5', 'https://lichess.org/training/wJRgF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wjRJ8', 'Bullet', 'vadium', 1664, 'webfg', 1666, 'e4,e5,Bc4,d6,Nf3,Be6,Bb3,Bxb3,cxb3,c5,O-O,Be7,h3,h6,d3,Qd7,Bd2,Nc6,Qe1,f5,b4,fxe4,bxc5,exf3,cxd6,fxg2,Kxg2,Qxd6,Kh1,Nf6,Rg1,g5,Nc3,O-O-O,a3,Qxd3,Be3,Qf5,Kh2,Nh5,Rc1,Nf4,Rg3,h5,Qf1,h4,Rf3,g4,Bxf4,exf4,hxg4,Qxg4,Rh3,Ne5,Ne4+,Kb8,Qb5,Nf3+,Rxf3,Qxf3,Qe5+,Bd6,Nxd6,Rxd6', 'Qxh8+,Rd8,Qxd8#', 'https://lichess.org/training/wjRJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wjs3u', 'Classical', 'ArtieFufkin', 1630, 'dancarlson1234', 1621, 'd4,d5,e3,Nf6,c4,c6,Nc3,Ne4,Nxe4,dxe4,Ne2,e6,Ng3,f5,Be2,g6,O-O,Qg5,d5,e5,dxc6,bxc6,Qb3,Be6', 'Qb7,Qe7,Qxa8', 'https://lichess.org/training/wjs3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wjv3T', 'Blitz', 'rightgurad64', 2236, 'Duubik', 2032, 'Nf3,e6,c4,f5,g3,Nf6,Bg2,Be7,O-O,O-O,Nc3,c6,d3,d5,cxd5,exd5,e3,Be6,Rb1,Bf7,b4,a5,b5,c5,a4,b6,Ne2,Ra7,Bb2,Nbd7,Ne5,Nxe5,Bxe5,Bd6,Bf4,Bxf4,gxf4,Kh8,Kh1,Bh5,Qd2,Rg8,Ng3,Bg6,Bf3,Qd7,Rg1,Ng4,h3,Nh6,Rg2,Be8,Rbg1,Qe7,Kh2,Rc7,Ne2,Bf7,Qb2,Be6,Qe5,c4,dxc4,dxc4,Bc6,Nf7,Qc3,Nd8,Nd4,Nxc6,Nxc6,Bd5,Rg3,Bxc6,bxc6,Rxc6,Rg5,Rc5,h4,Qd7,h5,Rc6,Qc2,c3,Rd1,Qe7,Qxf5,h6,Rd7,Qe8,Rg6,Rxg6,hxg6,c2,Qh3,c1=Q', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/wjv3T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WjV7W', 'Rapid', 'Synthchemist', 1763, 'anyfun', 1803, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d3,a6,Ba4,d6,Bg5,Bd7,c3,h6,Bxe7,Bxe7,O-O,O-O,Nbd2,Bg4,Re1,Bg5,Nf1,b5,Bc2,Qf6,d4,exd4,cxd4,Bxf3,Qxf3,Nxd4,Qd3,Nxc2,Qxc2,c5,Rad1,a5,Ng3,Qg6,Nf5,Rad8,f4,Bf6,Nxd6', 'Bd4+,Rxd4,cxd4', 'https://lichess.org/training/WjV7W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WjYD9', 'Blitz', 'fjxgame', 1512, 'BufaloSprngfield', 1518, 'd4,d5,Nf3,e6,g3,c5,c3,c4,Bg2,b5,O-O,h5,Ne5,Qc7,Bf4,Bd6,e4,Bb7,Nd2,Ne7,Qe2,f6,Ng6,Nxg6,Bxd6,Qxd6,e5,fxe5,dxe5,Nxe5,f4,Nd3,Nf3,Nd7,Ng5,O-O,Nxe6,Rfe8,f5,N7c5,Qxh5,Nxe6,fxe6,Rxe6,Bh3,Rh6,Qf7+,Kh8,Bf5,Rf6,Qh5+,Kg8,Qh7+,Kf8,Qh8+,Ke7,Qxg7+,Kd8,Bxd3,Rxf1+,Bxf1,Rc8,Re1,d4,Rd1,d3,Bh3,Qd5,Qf8+,Kc7,Qe7+,Kb8,Kf2,Rh8,Qd7,Rf8+,Ke1,Qh1+,Kd2,Rf2+,Kc1', 'Rc2+,Kb1,Qxd1#', 'https://lichess.org/training/WjYD9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wjyEQ', 'Rapid', 'Gaensebluemchen2801', 1607, 'AKarimW', 1680, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,Bb4,Bd2,Nf6,a3,Ba5,b4,Bb6,Be3,O-O,Bd3,Nc6,Ne4,Nxe4,Bxe4,Ne7,O-O,c6,c4,a6,c5,Ba7,Qd3,Bb8,Bxh7+,Kh8,Be4,Nf5,Bxf5,exf5,Ne5,Qh4,g3,Qh3,Bf4,Be6,f3,f6,Ng6+,Kg8,Nxf8,Bxf4,Nxe6,Bxg3,hxg3,Qxg3+,Kh1,Qh3+,Kg1,Qg3+,Kh1,Kf7,Qe2', 'Rh8+,Qh2,Rxh2#', 'https://lichess.org/training/wjyEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wJyx9', 'Rapid', 'das14', 2232, 'Jonnyturgi', 2251, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Be2,Bg4,O-O,e6,Re1,Bd6,h3,Bh5,c4,dxc4,Bxc4,Nge7,Nc3,O-O,Be2,Nb4,Be3,Nbd5,Nxd5,Nxd5,Qb3,Qb6,Qxb6,Nxb6,Rac1,Rfc8,Kf1,Nd5,Ne5,Nxe3+,fxe3,Bxe2+,Kxe2,Bxe5,dxe5,Kf8,Kf3,Ke7,Ke4,Kd7,Red1+,Ke7,h4,Rxc1,Rxc1,Rd8,Rc2,Rd7,g4,h6,h5,Kd8,b3,Rc7,Rd2+,Rd7,Rd4,b6,a3,Kc7,b4,Rxd4+,exd4,Kc6,a4,b5,a5,a6,Kf4', 'Kd5,Ke3,Kc4', 'https://lichess.org/training/wJyx9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wjZt7', 'Rapid', 'ChaudFontaine', 1976, 'NaumSh', 1825, 'e4,c5,c3,e5,d4,cxd4,cxd4,exd4,Nf3,Nf6,Nxd4,Nc6,Nc3,Bb4,Nxc6,bxc6,Bg5,Qe7,Bd3,h6,Bxf6,Qxf6,O-O,Bxc3,bxc3,Qxc3,Re1,O-O,Re3,Qd4,e5,c5,h3,Bb7,Rb1,Rab8,a4,Qd5,f3,Qd4,Qe2,Bxf3', 'Qxf3,Rxb1+,Bxb1', 'https://lichess.org/training/wjZt7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WK0DZ', 'Rapid', 'Mohamed-Sameh', 1877, 'VVS98', 1858, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,cxd4,Qxd4,Nc6,Qg4,Bxc3+,bxc3,g6,f4,Nge7,Nf3,Nf5,Bb5,Qb6,Bxc6+,bxc6,Nh4,Ne3,Qe2,Nf5,Nxf5,exf5,Be3,Qb2,O-O,Qxc3,Rfd1,O-O,Bd4,Qa5,e6,Bxe6', 'Qe5,f6,Qxe6+', 'https://lichess.org/training/WK0DZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wk16R', 'Rapid', 'meowingtons', 1907, 'route16', 1869, 'e4,e5,c4,d6,h3,c5,Nf3,Nf6,d3,Nc6,a3,Nd4,Be2,Nxe2,Qxe2,Be7,O-O,O-O,Nc3,Be6,Nh2,Re8,f4,exf4,Bxf4,Rb8,Qf3,a6,Rad1,b5,b3,bxc4,bxc4,Rb3,Nb1,Bxc4,e5,dxe5,Bxe5,Bb5,Ng4,Nxg4', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/wk16R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wk2rb', 'Blitz', 'GKANSK', 2511, 'finegold_touched_me', 2430, 'd4,f5,Nf3,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,g3,a5,Bg2,d6,O-O,Nc6,a3,Bxc3,Bxc3,Ne4,Be1,Qf6,e3,e5,dxe5,dxe5,Nd2,Nd6,Qc2,Be6,c5,Nf7,Nc4,f4,exf4,exf4,Bc3,Qh6,Bd2,Ng5,Bxf4,Rad8,Bxc7,Rd5,Ne3,Nf3+,Bxf3,Nd4,Bxd5,Bxd5,Nxd5', 'Nf3+,Kh1,Qxh2#', 'https://lichess.org/training/wk2rb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wk3dv', 'Rapid', 'ismailx', 1861, 'bramati', 1842, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,b4,Bb6,a4,a5,b5,Ne7,e5,Nfd5,Bg5,Nxc3,Nxc3,dxc3,Qc2,Bc5,Rd1,b6,e6,f6,h4,fxg5,Nxg5,Ng6,Qf5,Qf6', 'exd7+,Bxd7,Qxd7+', 'https://lichess.org/training/Wk3dv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WK6dN', 'Rapid', 'Matipulator', 1920, 'butlookatmycentre', 1931, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nf3,Bc5,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,d3,Bg4,Be2,O-O-O,O-O,Rde8,Re1,h5,Be3,Bxe3,fxe3,Rxe3,Qd2,Rhe8,h3,Bxf3,Bxf3,Qc5,Rxe3,Rxe3,Kf1,Ne5,Be4,Rg3,d4,Qb5+,Kf2,Nc4,Qe2,Rg5,Bd3,Qxb2', 'Qe8#', 'https://lichess.org/training/WK6dN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WKAV7', 'Bullet', 'GenericName7', 1576, 'JohnnyThePianist', 1543, 'e4,e6,e5,d6,exd6,Bxd6,Nf3,Nf6,d4,O-O,Bg5,Nbd7,c3,b5,Nbd2,c5,Bxb5,Rb8,Bxd7,Qxd7,Qc2,cxd4,Nxd4,Ba6,Bxf6,gxf6,N2f3,Rfd8,Qe4,Rxb2,Qh4,Qc7,Rc1,Bf4,Qxf6,Qxc3+,Rxc3', 'Rb1+,Rc1,Rxc1#', 'https://lichess.org/training/WKAV7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wKAyr', 'Rapid', 'avazimbetovyantar', 2113, 'PrrplSqrrl', 1751, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,c6,Bxd5,cxd5,d4,Nc6,Nf3,Bg4,Be3,e6,O-O,Be7,h3,Bh5,g4,Bg6,Ne5,f6,Nxc6,bxc6,f4,O-O,Qd2,Qd6,a3,e5,fxe5,fxe5,dxe5,Qxe5,Bf4,Bc5+,Kh2,Be3', 'Qxe3,Qxe3,Bxe3', 'https://lichess.org/training/wKAyr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WKb8m', 'Rapid', 'ras666', 1695, 'George63', 1655, 'd4,d5,c4,dxc4,Nc3,e6,e4,Nc6,Nf3,Bb4,Bxc4,Nf6,Bg5,h6,Bxf6,Qxf6,O-O,O-O,a3,Bxc3,bxc3,a6,a4,Bd7,Rb1,Na5,Bd3,Bc6,Qd2,Rfd8,Rb4,b6,Qe2,Bb7,Ne5,Qe7,f4,f6,Nf3,c5,Rxb6,cxd4,cxd4,Qc7,Rfb1,Qxf4,Rxb7,Nxb7,Rxb7,Qc1+,Kf2,Qf4,g3,Qd6,e5,fxe5,Qe4,Kf8,Rf7+,Kxf7,Qg6+,Ke7', 'Qxg7+,Ke8,Bg6#', 'https://lichess.org/training/WKb8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WkBIX', 'Rapid', 'tha1es', 1798, 'chompa', 1817, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,e6,Bf4,Bb4,O-O-O,Bxc3,Qxc3,Nd5,Qg3,Nxf4,Qxf4,O-O,Bd3,Nd7,Nh3,h6,Kb1,Nf6,g4,Nd5,Qe4,g6,c4,Nf6,Qf3,Bd7,Rhf1,Kg7,g5,hxg5,Nxg5,Bc6,Qe3,Ng4,Nxe6+,fxe6,Qxe6,Qg5,h4,Qh5,Qe7+,Kh6', 'Rxf8,Rxf8,Qxf8+', 'https://lichess.org/training/WkBIX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkBrv', 'Rapid', 'Queenee', 2311, 'Ashot-Alex', 2108, 'd4,d5,c4,Nc6,Nc3,e5,cxd5,Nxd4,e3,Nf5,e4,Nd4,Nge2,Nxe2,Bxe2,Bd6,O-O,Ne7,Bb5+,Bd7,Qb3,Rb8,f4,exf4,Bxf4,O-O,e5,Bc5+,Kh1,a6,Bd3,Ng6,Bg3,b5,Rae1,Kh8,a3,Qc8,Bxg6,hxg6,e6,fxe6,Rxf8+,Bxf8,dxe6,Bc6,Qc2,Bd6,Bxd6,cxd6,Qxg6,Qe8,Qg3,Qe7,h3,Rf8,Ne4,Qxe6,Nxd6,Qd5,Ne4,Rf5,Nf2,Qd2,Ng4,Bxg2+,Kg1,Bc6,Ne5,Qd4+,Qe3,Qxe3+,Rxe3,Be8,Kg2,Kh7,Kg3,Rf6,b4,Re6,Kf4,Rh6', 'Ng4,Rh5,Rxe8', 'https://lichess.org/training/wkBrv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkCt1', 'Rapid', 'amrasd123', 2152, 'Sandro_lacko', 2130, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nc6,Nf3,e5,dxe5,Qxd1+,Kxd1,Bg4,Be2,O-O-O+,Kc2,Bxf3,Bxf3,Nxe5,Bf4,Nxf3,gxf3,Bd6,Bg3,Nf6,Nd2,Rhe8,Rae1,Nd5', 'Rxe8,Rxe8,Bxd6', 'https://lichess.org/training/wkCt1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WkcU3', 'Blitz', 'elcandado', 2536, 'IM Blend99', 2514, 'd4,d5,Bf4,Nf6,e3,c5,c3,Nc6,Nd2,g6,Ngf3,Bg7,Be2,O-O,O-O,Nd7,Qb3,e6,Bd6,c4,Qa3,Re8,b3,b5,bxc4,bxc4,e4,a5,Rfe1,Ba6,exd5,exd5,Nf1,Nf6,Ne3,Ne4,Bc5,a4,Rab1,Qa5,Nxd5,Nxc5,Qxc5,Qxc5,dxc5,Ra7,Bf1,Rd8,Rbd1,Rad7,Ne7+', 'Nxe7,Rxd7,Rxd7', 'https://lichess.org/training/WkcU3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wKDZn', 'Rapid', 'Centrus', 1929, 'rakesh6', 1935, 'e4,e5,Nc3,Nf6,f4,d6,Nf3,Nc6,Bc4,g6,d3,Bg7,O-O,O-O,Be3,Be6,Bb3,exf4,Bxf4,Nh5,Qd2,Nd4,Bh6,Nxb3,axb3,a6,Bxg7,Kxg7,Ng5,Bd7,Rf3,h6,Nh3,Bg4,Re3,f5,exf5,Bxf5,Rf1,c6,Nf4,Nxf4,Rxf4,d5,Ne2,Qc7,Qb4,c5,Qc3+,Kh7,Qe5,Qxe5,Rxe5,Rae8,Rxe8,Rxe8,Nc3,d4,Nd5,Re2,g4,Be6,Nf6+,Kg7,Ne8+,Kh8,Re4,Rxe4,dxe4,Bxg4,e5,Be6', 'Nc7,d3,cxd3,Bxb3,e6,Kg7,e7', 'https://lichess.org/training/wKDZn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wKE3p', 'Rapid', 'ashis_jumh', 1736, 'Con_clave', 1730, 'd4,d6,Bf4,g6,e3,Bg7,c3,Nf6,Be2,Bf5,Nf3,c6,Nbd2,O-O,Nh4,Bd7,Qb3,Qb6,Qc2,Qc7,Bc4,e5,Nxg6,hxg6,dxe5,dxe5,Bg5,Be6,Bxe6,fxe6,Qxg6,Qf7,Qc2,Nd5,O-O-O,a5,Ne4,Nd7,Nd6,Qh5,h4,b5,g4,Qh7,e4,Nf4,Bxf4,exf4,g5,Be5,g6,Qg7,h5,Bxd6,Rxd6,Nf6,h6,Qxg6,Rxe6,Rae8,Qb3,Rxe6,Qxe6+,Qf7,Rg1+,Kh7', 'Rg7+,Qxg7,hxg7', 'https://lichess.org/training/wKE3p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkEJO', 'Rapid', 'safecastle', 1739, 'chessMM28', 1762, 'e4,d6,Nf3,Nf6,d3,g6,g3,Bg7,Bg2,O-O,Bg5,h6,Bd2,e5,h3,Nc6,c3,Be6,O-O,Nh5,Nh4,Qd7,Kh2,Ne7,Nf5,Nxf5,exf5,Bxf5,g4,Nf4,gxf5,Qxf5,Bxf4,Qxf4+,Kg1,e4,Qg4,Qxg4,hxg4,exd3,Nd2,c5,Be4,Rae8,Bxd3,Re5,f4,Re7,Be4,Rfe8,Bf3,b6,Rad1,Bf6,Nc4,Rd7,Nxd6,Re3,Kg2,Rde7,f5,Bg7,fxg6,fxg6,Bd5+,Kh8,Nf7+,Kh7,g5,h5,Nd6,Re2+,Kf3', 'R7e3+,Kf4,Be5#', 'https://lichess.org/training/wkEJO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkfgr', 'Rapid', 'MeSar', 1737, 'Chessmaster_Gleb', 1745, 'h3,e5,d3,d5,a3,Nf6,Nf3,Nc6,e3,Bd6,b4,O-O,Bb2,e4,Nfd2,Bf5,b5,Ne5,g4,Bg6,g5,Nfd7,h4,exd3,cxd3,Bxd3,Bg2,Bxb1,Qxb1,Nc5,Bxd5,Ncd3+,Kf1,c6,Be4,Bc5,Bxe5,Nxe5,Bxh7+,Kh8,Ne4,Kxh7', 'Nf6+,Kh8,Qh7#', 'https://lichess.org/training/wkfgr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wkg5d', 'Blitz', 'Yakima', 1586, 'sergeybelyaev', 1579, 'e4,c5,Nf3,d6,Bb5+,Bd7,c4,Bxb5,cxb5,Qd7,Nc3,Nf6,O-O,g6,a4,Bg7,Re1,O-O,d3,e5,Bg5,h6,Bxf6,Bxf6,Nd5,Qd8,Qc1,b6,Qxh6,Bg7,Qg5,Qxg5,Nxg5,Re8,Nc7,Nd7,Nxa8,Rxa8,Rec1,Bh6,Nf3,Bxc1,Rxc1,Kg7,Nd2,a6,Nc4,axb5,axb5,Ra2,Kf1,Nf6,Rc2,Ra1+,Ke2,Rh1,h3,Rh2,Kf3,Nh5,Nxd6,Nf4,g3,Nxh3,Nc4,Ng5+,Ke3,Rh1,Nxb6,Re1+,Kd2,Rf1,Kc3,Nf3,Nd5,Nd4,Rd2', 'Rc1+,Rc2,Rxc2#', 'https://lichess.org/training/Wkg5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WKgUq', 'Blitz', 'Fiendfyre3636', 1725, 'GM hitter1999', 2109, 'f4,e5,fxe5,d6,exd6,Bxd6,Nf3,g5,g3,g4,Nh4,Ne7,Bg2,Ng6,Nxg6,hxg6,O-O,Nc6,d4,Rxh2,Kxh2', 'Qh4+,Kg1,Bxg3', 'https://lichess.org/training/WKgUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wkhqw', 'Rapid', 'boec49', 1960, 'mephistopheleso', 2004, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Bc4,e6,Nxc6,bxc6,Bd4,Bxd4,Qxd4,Qf6,e5,Qf5,Bd3,Qg5,g3', 'Qc1+,Ke2,Qxh1', 'https://lichess.org/training/Wkhqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WKIbR', 'Rapid', 'Krakatoa95', 2217, 'kurapika', 1964, 'd4,d6,e4,e5,Nf3,exd4,Nxd4,Nd7,Nc3,Ngf6,Bg5,Be7,Nf5,O-O,Qd4,Nb6,Nxe7+,Qxe7,Bxf6,Qxf6,Qxf6,gxf6,Nb5,Bd7,O-O-O,Rac8,Nxa7,Ra8,Nb5,Bxb5,Bxb5,Rxa2,Kb1,Rfa8,c3,c6,Be2,R2a4,f3,d5,Bd3,dxe4,fxe4,Nd7,Rhf1,Kg7,Rf4,Ne5,Kc2,Ra1,Rdf1,Rxf1,Bxf1,Ra1,g3,Re1,b4,b5,Kd2,Rb1,h3,Rb2+,Kc1,Rh2,Kd1,Ra2,Rf5,Rh2,h4,Ra2,Kc1,Rh2,Kd1,Kg6,Rf4,h5,Rf5,Ng4,Ke1,Rc2,Rc5,Ne5,Be2,Ra2,Kf1,Rc2,Ke1,Ra2,Kf1,Rc2,Kf2', 'Nd3+,Ke3,Nxc5', 'https://lichess.org/training/WKIbR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wKIbv', 'Rapid', 'Xavierfilho', 1603, 'Tomikor75', 1600, 'e4,c5,Nf3,e6,d4,Nc6,h3,d5,e5,cxd4,Nxd4,Nxe5,a3,Bc5,Nc3,Qb6,Be3,Nd3+,Bxd3,Bxd4,Bxd4,Qxd4,O-O,Nf6,Nb5,Qb6,Qf3,h6,Be2,a6,Nc3,d4,Ne4,Nxe4,Qxe4,O-O,Bd3,f5,Qh4,Rf6,b4,Qc6,Rfc1,Rg6,Qd8+,Kh7,f3,b5,Re1,Bd7,Qh4,Re8,Qxd4,Qc7,Kh1,Qg3,Rg1,Bc6,Raf1,Re7,Qb6,Bb7,Qd8,Rf7,Qe8,Rgf6,Qd8,e5,Be2,e4,fxe4,Bxe4,Bf3,Bxc2,Bd5,Rf8,Qe7,Bd3', 'Rf3,Qg6,Rxd3', 'https://lichess.org/training/wKIbv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkiEc', 'Blitz', 'dzanzer', 2200, 'IoannesRCV', 2365, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bc4,Be7,O-O,O-O,Be3,Nc6,Bb3,Bd7,f4,Nxd4,Bxd4,Bc6,e5,dxe5,Bxe5,Qb6+,Kh1,Rad8,Qe1,Rd7,f5,exf5,Rxf5,Ng4,Bxg7,Kxg7,Qg3,Kh8,Bxf7,Ne3', 'Qe5+,Bf6,Qxf6#', 'https://lichess.org/training/wkiEc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkKb5', 'Classical', 'mward128', 1632, 'Hammmmza', 1641, 'Nf3,Nf6,c4,d5,e3,e6,d4,Bb4+,Nc3,Bxc3+,bxc3,O-O,cxd5,Nxd5,Qd2,Nc6,Ba3,Re8,Rb1,Nb6,Qc2,e5,d5,Nxd5,c4,Nde7,Rd1,Bd7,Be2,Nf5,Bd3,Nh4,Nxh4,Qxh4,O-O,Rad8,Be4,Qg5,Bc5,f5,f4,Qg4,Bd5+,Be6,Bf3,Qg6,Qe2,Rxd1,Rxd1,Na5,Bh5,Bxc4,Qxc4+', 'Nxc4,Bxg6,hxg6', 'https://lichess.org/training/wkKb5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wKKc6', 'Rapid', 'manapbk', 1826, 'mustafa14100', 1943, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Be2,O-O,O-O,d6,h3,a6,a3,Ne5,Qd2,b5,b4,Bb7,f3,Rc8,a4,Nc4,Bxc4,bxc4,b5,Nd7,bxa6,Bxa6,Ncb5,Rb8,Rab1,Nc5,Qb4,d5,Nc6,Qd7,Nxb8,Rxb8,Qxc5,dxe4,Qxc4,exf3,Rxf3,e6,Qc7', 'Qxc7,Nxc7,Rxb1+', 'https://lichess.org/training/wKKc6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkkEI', 'Blitz', 'riorio_908', 1745, 'FlintYanni', 1760, 'e4,e5,Nf3,Nc6,h3,Bc5,Nc3,d6,Bc4,Be6,b3,Qf6,O-O,O-O-O,d3,Nd4,Nxd4,Bxd4,Bd2,Qg6,Kh2,f5,Rb1,f4,Ne2,Bb6,Bxe6+,Qxe6,d4,g5,d5,Qd7,Ng1,Nf6,Qe1,h5,f3,g4,h4,gxf3,gxf3,Rdg8,Nh3,Qe7,c3,c6,Rb2,Bd8,c4,c5,Qf2,Nh7,Be1,Rg3,Rg1,Rhg8,Rxg3,Rxg3,Qe2', 'Qxh4,Bxg3,Qxg3+,Kh1,Qxh3+', 'https://lichess.org/training/wkkEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkmNc', 'Rapid', 'Electro351', 1822, 'JRMartinezDipCity30', 1871, 'e4,c5,Nf3,Nc6,c4,e5,Nc3,d6,Nd5,Be6,b3,Nd4,Nxd4,exd4,Be2,Nf6,O-O,Nxd5,exd5,Bf5,Re1,Be7,Bg4,Bxg4,Qxg4,O-O,d3,Bf6,Bf4,Re8,Qg3,Qa5,Rxe8+,Rxe8,Kf1,Be5,Re1', 'Qxe1+,Kxe1,Bxf4+,Kd1,Bxg3', 'https://lichess.org/training/wkmNc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wKMps', 'Rapid', 'gambygambs', 1732, 'Es_ahmadi', 1692, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,c3,d6,h3,Bg7,d3,O-O,Ne2,Na5,Bb5,c6,Ba4,b5,Bc2,Bb7,b4,d5,bxa5,Qxa5,a4,b4,cxb4,Qxb4+,Bd2,Qb2,Nc1,Qxa1', 'Bc3,Qxc3+,Nxc3', 'https://lichess.org/training/wKMps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WKMwo', 'Blitz', 'Dionisius', 1692, 'Vova_Kostroma', 1831, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bg5,h6,Bh4,O-O,e3,Nc6,a3,a5,c5,b6,b4,axb4,axb4,Rxa1,Qxa1,Nxb4,cxb6,cxb6,Qb2,Qc7,Be2,Ne4,Nxe4,Nc2+,Kd2,Bb4+,Nc3,Bxc3+,Qxc3,Qxc3+,Kxc3,Na3,Ra1,Nc4,Bxc4,dxc4,Kxc4,Bd7,Ra7,Bc6,Ne5,Bxg2,Ra6,Bf1+,Nd3,b5+,Kc3,Rc8+,Kd2,b4,Nxb4,Bxa6,Nxa6,g5,Bg3,h5,Nc5,h4,Be5,Kh7,Bf6,Kg6,Be5,Ra8,Ke2,g4,Ne4,Ra2+,Kf1,Kf5,Nd6+,Kg6,Kg2,f5,Nc4,Kg5,e4,Ra1,exf5', 'h3+,Kg3,Rg1#', 'https://lichess.org/training/WKMwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WKnzN', 'Blitz', 'ShadowLike', 2273, 'aletunovsky', 2342, 'e4,e6,Nf3,d5,e5,c5,b4,cxb4,d4,Qb6,a3,bxa3,Nxa3,Nc6,c3,Nge7,Nb5,Nf5,Ba3,Bxa3,Rxa3,O-O,g4,Nfe7,Bd3,a6,Nd6,Ng6,h4,f6,Bxg6,hxg6,h5,g5,Qc2,fxe5,h6,Nxd4,Qg6,Nxf3+,Kd1,Qc7,Ne8,Qf7,hxg7,Qxg6', 'Rh8+,Kf7,gxf8=Q#', 'https://lichess.org/training/WKnzN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkoBB', 'Rapid', 'DrFreud', 1718, 'umargani', 1754, 'd4,g6,b3,Bg7,Bb2,d5,Nf3,Nf6,e3,O-O,c4,c6,Nc3,e6,Bd3,Nbd7,O-O,Re8,a4,e5,dxe5,Nxe5,Nxe5,Rxe5,Nxd5,Re6,Nxf6+,Bxf6,Bxf6,Qxf6,Qe2,Rd6,Rab1,Qg5,Rfd1,Rf6,Be4,Bg4,f3,Bh3,f4,Qg4,Bf3,Qh4,gxh3,Re8,Qf2,Qxh3,Bg2,Qxe3,Qxe3,Rxe3,Rd8+,Kg7,Kf2,Rc3,Rd7,Rxf4+,Ke2,Rc2+,Rd2', 'Rxd2+,Kxd2,Rf2+,Kc3,Rxg2', 'https://lichess.org/training/wkoBB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WKQvN', 'Rapid', 'kindruk', 1812, 'caduzon', 1636, 'e4,e5,Bc4,Nf6,Nf3,Bc5,Nxe5,O-O,d4,Qe8,Bxf7+,Rxf7,Nxf7,Qxe4+,Be3,Qxg2,Rf1,Bb4+,c3,Kxf7,cxb4,d5,Nd2,Nc6,a3,Bg4,f3,Bh3,Qe2,Re8,Qxg2,Rxe3+,Kf2,Bxg2,Kxe3,Bxf1,Rxf1,Ne7,Nb3,Nf5+,Kd3,Nd7,Nc5,Nb6,Nxb7,Na4,b3,Nb2+,Kc2,Ne3+,Kxb2,Nxf1,h3,Kf6,Kc3,Kg5,Nc5,Kf4,Ne6+,Kxf3,Nxc7,Kg3,Nxd5,Kxh3,Nf4+,Kg4,Ne6,h5,d5,h4,d6,h3,d7,h2,d8=Q,h1=Q,Qg5+,Kf3,Qxg7,Ng3,Qf6+,Kg2,Nf4+,Kg1,Qe5,Qc6+,Kb2,Ne4,Ne2+,Kf1,Nd4,Qc3+,Ka2,Qd2+,Kb1', 'Nc3+,Ka1,Qc1#', 'https://lichess.org/training/WKQvN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkRwi', 'Rapid', 'mustafacar', 1607, 'Bukks404', 1622, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,g4,Bg6,d3,Nf6,Ng5,d5,exd5,h6,Ne4,Nxd5,Bxd5,Qxd5,Qf3,Nc6', 'Nf6+,gxf6,Qxd5', 'https://lichess.org/training/wkRwi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WKser', 'Blitz', 'Victor0101', 1589, 'SirCoutoCulture', 1569, 'e4,e6,Nf3,Nc6,d4,d5,e5,Bb4+,c3,Ba5,b4,Bb6,a4,a6,a5,Ba7,Bg5,Nge7,Bxe7,Nxe7,Nbd2,h6,Bd3,O-O,O-O,Bd7,Rc1,Bb5,Qe2,Bxd3,Qxd3,Nf5,h4,Re8,Nh2,Nxh4,Ndf3,Nf5,Ng4,Bb8,Nfh2,c6,Ne3,Nh4,Qe2,Qg5,Qg4,Qxg4,Nexg4,Bc7,g3,Nf5,Ne3,Ne7,f4,Bd8,Kg2,Rc8,g4,Kh7,Kg3,g6,Nf3,Ng8,Rh1,Kg7,g5,h5,c4,dxc4,Nxc4,Bc7,Nd6,Rcd8,Nxe8+,Rxe8,Rc4,Rd8,Rd1,Ne7,Nd2,Nf5+,Kf3,h4,Ne4,h3,Rh1,Nxd4+,Ke3,Nf5+,Kf3,Rd3+,Kg4,Ne3+,Kxh3,Nxc4+,Kg4,Ne3+,Kh4,Nf5+,Kg4,Re3,Nf6,Bd8', 'Rh7+,Kf8,Rh8+,Ke7,Re8#', 'https://lichess.org/training/WKser');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wKt3E', 'Rapid', 'altynbek85', 1870, 'MarkZablocki', 1879, 'e4,e6,e5,d5,d4,c5,c3,Nc6,Bb5,Qb6,a4,Ne7,dxc5,Qc7,Nf3,a6,Bxc6+,Nxc6,Be3,Nxe5,Nxe5,Qxe5,b4,Be7,O-O,O-O,Bd4,Qg5,f4,Qg6,Be5,Bf6,Qd4,Bxe5,fxe5,Bd7,Ra2,Bc6,Nd2,h6,Nf3,Rab8,Nh4,Qe4,Nf3,f6,Re1,Qf5,Rf2,Qg6,Nh4,Qg5,a5', 'fxe5,Qxe5,Qxh4', 'https://lichess.org/training/wKt3E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wKuFc', 'Blitz', 'whitebeer', 1992, 'iLisyOo', 1812, 'e4,g6,d4,Bg7,Nf3,e6,Nc3,Ne7,Bc4,O-O,Be3,d5,Bb3,c5,exd5,exd5,dxc5,Nbc6,Qd2,d4,Nxd4,Nxd4,Bc4,Ndc6,Qe2,Bf5,h4,Bxc3+,bxc3,Qc7,h5,Ne5,hxg6,Bxg6,Bb3,Nf5,Bf4,Rfe8,O-O-O,Qxc5,Rhe1,Nc6,Qxe8+,Rxe8,Rxe8+,Kg7,g4,Nh4,Kb2,a5,Bg3,Nf3,Bd6,Qg5', 'Bf8+,Kf6,Rd6#', 'https://lichess.org/training/wKuFc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wKUSa', 'Rapid', 'cosabuena44', 1633, 'gotopla1', 1645, 'f4,Nf6,b3,Nd5,e3,e6,Bb2,g5,Bxh8,gxf4,exf4,Nxf4,Qf3,Bd6,g3,Ng6,Bf6,Be7,Bxe7,Qxe7,Bd3,Ne5,Qe4,Qf6,Qf4', 'Nxd3+,cxd3,Qxa1', 'https://lichess.org/training/wKUSa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkvDq', 'Blitz', 'couchoc', 1918, 'ChessPlayer05121', 2025, 'g3,e5,Bg2,d5,d3,Nf6,Nf3,Nc6,O-O,Bc5,c4,Bg4,cxd5,Nxd5,Nc3,Nxc3,bxc3,O-O,h3,Bh5,Rb1,Bb6,Qa4,Qe7,Ba3,Bc5,Bxc5,Qxc5,Rxb7,Qxc3,Rxc7,Rfc8,Rxc8+,Rxc8,Qa6,Rc7,Rb1,h6,Rb7,Nd4,Nxd4,exd4,g4,Bg6,Qxa7,Qe1+,Kh2,Rc1,Rb8+,Kh7,Qa8,Bxd3,exd3', 'Qe5+,f4,Qxf4#', 'https://lichess.org/training/wkvDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wKvMv', 'Rapid', 'Icekas', 1784, 'peon_lunar', 1743, 'd4,Nf6,Bf4,d5,e3,c6,Be2,Bf5,Nd2,e6,h3,Bb4,c3,Ba5,Ngf3,Nbd7,O-O,O-O,Qb3,b5,Ne5,Nxe5,Bxe5,Bc7,Nf3,Nd7,Bh2,f6,Nh4,Be4,Bg4,f5,Be2,Qxh4,f3,Bxh2+,Kxh2,Bxf3,Bxf3,e5,Bxd5+,Kh8,Bxc6,Rad8,Bxd7,Rxd7,Qxb5,Rdf7,dxe5,f4,Qc4,Qg3+,Kh1', 'f3,Rxf3,Rxf3', 'https://lichess.org/training/wKvMv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WkVYY', 'Rapid', 'Thumper3', 1843, 'Harsh1812', 1778, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Nc3,exd4,Nxd4,Nxd4,Qxd4,Bxb5,Nxb5,Nf6,Bg5,h6,Bxf6,gxf6,Qc3,Kd7,O-O-O,a6,Nd4,Rg8,Qh3+,Ke8,Nf5,Qd7,f3,b5,Rd2,b4,Qh4,Qa4,Kb1,Rb8,Qxf6,Rg6,Qh8,Qa5,h4', 'b3,axb3,Qxd2', 'https://lichess.org/training/WkVYY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wkW5q', 'Rapid', 'denis1977', 1790, 'aamendes', 1683, 'd4,Nf6,Bf4,d5,e3,Nbd7,Bd3,b6,Nf3,Bb7,Ne5,Nxe5,Bxe5,Qd7,O-O,O-O-O,Qe2,Ne4,Ba6,f6,Bxb7+,Kxb7,Bg3,h5,f3,h4,Be1,Ng5,c4,e5,b4,h3,g3,e4,f4,Nf3+,Kh1,dxc4,Qxc4,g5,Nd2,g4,Nxe4,Bg7,a4,Rhe8,Nd2,Rxe3,Nxf3,Rxf3,Rxf3,gxf3,Bf2,f5,Rd1,Qxa4,Rc1,Rd7,Qe6,Qa3,Re1,Rd6,Qxf5,Bxd4,Qe4+,Kc8,Bxd4,Qxb4,Qf5+,Kb7,Bf2,Rd2,Qe4+', 'Qxe4,Rxe4,Rxf2', 'https://lichess.org/training/wkW5q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WKXFQ', 'Rapid', 'h_pinorama', 2181, 'Danii5', 2139, 'e4,b6,d4,Bb7,Nc3,g6,Nf3,Bg7,Bd3,e6,Be3,c6,O-O,Ne7,e5,d5,Bg5,Nd7,Qd2,O-O,Bh6,Nf5,Bxf5,exf5,Ne2,f6,Bxg7,Kxg7,Ng3,fxe5,Nxe5,Nxe5,dxe5,Bc8,Rfe1,Be6,Qc3,c5,f4,Rc8,Rad1,Rf7,b3,a5,a4,d4,Qb2,Qd5,Nf1,Rd7,Nd2,Qc6,Nf3,Bd5,e6,Re7,Ne5,Qb7,c4,Bxe6,Qf2,Rce8,Rd3,Bd7,Qh4,Bc6,Qg5,Be4,Rh3,Kg8,Nxg6,hxg6', 'Qxg6+,Rg7,Qxe8#', 'https://lichess.org/training/WKXFQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WKymK', 'Rapid', 'apostolceka', 1700, 'Richman', 1713, 'd4,d5,e3,Nc6,Nf3,Nf6,c3,h6,Nbd2,e6,Be2,Be7,O-O,O-O,a3,a6,h3,Bd7,Nh2,Na7,Ng4,c5,Nxf6+,Bxf6,dxc5,Qc7,Nb3,Ba4,Bd3,Nc6,Bc2,b6,cxb6,Qxb6,Nd4,Bxc2,Qxc2,Nxd4,exd4,Rfc8,Qd3,a5,Rb1,Rab8,Qf3,Kh7,b4,axb4,axb4,Qc6,Qd3+,Kg8,Bd2,Ra8,Qg3,Bg5,Bxg5,hxg5,Qxg5,Qxc3,Rfc1,Qxd4,Rxc8+,Rxc8,Qg3,Qe4,Qb3,d4,b5,Qb7,b6,Rc6,Qb4,e5,Qb5,e4', 'Qxc6,Qxc6,b7', 'https://lichess.org/training/WKymK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WKyoY', 'Rapid', 'Friese8', 1913, 'chilinhqb', 1973, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,Nf6,Bg5,e6,e3,g6,cxd5,exd5,Bd3,Bxd3,Qxd3,Bg7,O-O,O-O,Rfe1,Nbd7,e4,Qc7,e5,Ne8,e6,fxe6,Rxe6,Nef6,Rae1,Rae8,Re7,Rxe7,Rxe7,Re8', 'Bxf6,Rxe7,Bxe7', 'https://lichess.org/training/WKyoY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wKzLu', 'Blitz', 'GOGAME2018', 2446, 'IM italian5', 2412, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bd3,Bxd3,Qxd3,e6,Bg5,Be7,Nf3,Nh6,Nbd2,Nd7,O-O,Nf5,g3,f6,Bf4,Kf7,exf6,gxf6,Rfe1,Ng7,Re2,Nf8,Rae1,Qb6,Nb3,Qb5,Qxb5,cxb5,Na5,Bb4,Nxb7,Bxe1,Nd6+,Kg6,Nxe1,Nd7,Nd3,a6,Bd2,Rhd8,Nf4+,Kh7,Nxe6,Nf8,Nxg7,Kxg7,Re7+,Kg6,Nb7,Rd7,Rxd7,Nxd7,Bb4,Re8,c3,Re2,Ba3,Nb6,Nc5,a5,Nd3,Nc4', 'Nf4+,Kf5,Nxe2', 'https://lichess.org/training/wKzLu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wl0m9', 'Rapid', 'GMREIN', 1838, 'p-wnattack', 1995, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,h3,Bf5,Bd3,Bxd3,Qxd3,Ne7,O-O,O-O,Re1,h6,Be3,c6,Nbd2,Nd7,c4,Ng6,a3,Nf6,b3,Re8,cxd5,Nxd5,b4,Qf6,Nc4,Bc7,Bd2,Ngf4,Qf1,Nxh3+,gxh3,Qxf3,Qg2,Qxg2+,Kxg2,Kf8,Ne5,f6,Nd7+,Kf7,Nc5,b6,Ne4,f5,Nc3,Rxe1,Rxe1,Re8,Rxe8,Kxe8,Nxd5,cxd5,h4,Kd7,Kf3,Kc6,a4,b5,a5,Kd7,Bf4,Bd8,h5,Be7,Be5,Bxb4,a6,Bf8,Bb8,Kc6,Bxa7,b4,Ke3,b3,Kd3,Bb4,Bc5,Be1,f3,Ba5,Bf8,Kb6,a7,Kxa7,Bxg7,b2,Kc2,Bd2,Kxb2,Kb6,Kc2,Bf4,Kb3,Kb5,Be5,Bc1,Bg7,Bg5,Be5,Be3,Bg7,Bd2,Be5,Bg5', 'f4,Be7,Bg7', 'https://lichess.org/training/Wl0m9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wl0PJ', 'Rapid', 'a_b_p', 1652, 'Caribia', 1651, 'e4,e5,Bc4,h6,d3,Bc5,Nf3,d6,Nc3,c6,a3,Qf6,h3,Ne7,Na4,Bb6,Nxb6,axb6,O-O,Ng6,Nh2,h5,f4,Be6,Ba2,Bxa2,Rxa2,exf4,Qf3,O-O,Bxf4,Nxf4,Qxf4,Qe6,Raa1,Nd7,Qg5,Ra5,Qf4,f5,b4,Re5,Nf3', 'fxe4,Qg3,exf3', 'https://lichess.org/training/wl0PJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wL1kh', 'Rapid', 'HannoHanno', 1805, 'ItouKaiji', 1824, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,d5,exd5,Nxd4,cxd4,Bb4+,Nc3,O-O,O-O,Nf5,Ne4,Qg6,a3,Nh4,Ng3,Bd6,Bd3,f5,Be2,Qf7,b3,f4,Ne4,Qxd5', 'Bc4,Be6,Bxd5', 'https://lichess.org/training/wL1kh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wl3b3', 'Rapid', 'Tetragono', 1724, 'ViktorPendragon', 1738, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Qe7,Nd2,Nc6,Ngf3,d6,O-O,Be6,Bxe6,Qxe6,Nb3,Nf6,Nbd4,Nxd4,Nxd4,Qg4,Re1,c5,Qa4+,Qd7,Qxd7+,Nxd7,Nb5,Kd8,Rad1,a6,Nxd6,Bxd6,Rxd6,f6', 'Red1,Kc7,Rxd7+', 'https://lichess.org/training/wl3b3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wL3i8', 'Blitz', 'johrie', 1588, 'KING5665', 1570, 'e4,e6,d4,c6,Nf3,d5,Nc3,c5,Bb5+,Nc6,O-O,c4,b3,cxb3,cxb3,a6,Bxc6+,bxc6,Ne5,Bb7,Re1,Nf6,exd5,cxd5,Bg5,Be7,h3,h6,Bh4,O-O,Qf3,Ne4,Bxe7,Qxe7,Na4,Nd2,Qe3,Ne4,Nc5,Bc8,Nxe4,dxe4,Qxe4,Bb7,Qe3,Qd6,Rac1,Qd5,f3,Rad8,Red1,Qa5,a4,Bd5,Rc5,Qb4,Rb1,Qa3,Ra5,Rb8,Nd7,Rxb3', 'Rxb3,Qxb3,Qxb3,Bxb3,Nxf8', 'https://lichess.org/training/wL3i8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wl3qX', 'Blitz', 'Hal2001', 1528, 'SavagePaw', 1541, 'e4,c6,d4,d6,Nf3,Nf6,Nc3,Qb6,Bd3,Nbd7,O-O,e5,Be3,Qxb2,Bd2,Qb6,Rb1,Qc7,dxe5,Nxe5,Nxe5,dxe5,Re1,Bc5,Na4,Bd4,c3,Bb6,Nxb6,axb6,Rb2,Qd6,Bg5,Ng4,h3,Nf6,Be2,Qc5,Qd3,b5,Bxf6,gxf6,Rd1,Be6,Qg3,h5,Qg7,Rf8,Bxh5,Qxc3,Rbd2,Ke7,Bg4,Rg8', 'Rd7+,Bxd7,Rxd7+,Ke8,Qxg8#', 'https://lichess.org/training/wl3qX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wl6oL', 'Rapid', 'hybi', 2053, 'Israil5706', 2130, 'd4,Nf6,Bf4,d6,Nf3,g6,e3,Bg7,Bd3,Nbd7,c3,c5,O-O,O-O,Nbd2,a6,a4,Nb6,Bc2,Nbd5,Bg3,Bg4,h3,Bd7,Re1,cxd4,exd4,Re8,Ne4,Bc6,Qd2,b5,Qd3,Nxe4,Rxe4,Nb4', 'cxb4,Bxe4,Qxe4', 'https://lichess.org/training/Wl6oL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wL6re', 'Rapid', 'Homer1238', 1687, 'andreykul', 1723, 'e4,e5,Nf3,Nc6,Bc4,Bc5,a3,d6,c3,Bg4,h3,Bxf3,Qxf3,Qf6,Qe2,a6,O-O,h5,Kh2,g5,b4,Bb6,d3,g4,Rg1,g3+,Kxg3,Bxf2+,Qxf2', 'h4+,Kh2,Qxf2', 'https://lichess.org/training/wL6re');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WL7eO', 'Rapid', 'yura71', 2066, 'mehrnaz33', 1935, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,Nc3,Qd6,d4,Bg4,Be2,Nc6,d5,Ne5,O-O,O-O-O,Nxe5,Bxe2,Qxe2,Re8,Nxf7,Qb6+,Qf2', 'Bc5,Qxc5,Qxc5+', 'https://lichess.org/training/WL7eO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLA5i', 'Blitz', 'shilvia_tevi', 1833, 'Nursyafrial', 1887, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,Bg4,c4,Qh5,Be2,Nf6,d5,O-O-O,O-O,e6,Bf4,exd5,Bg3,dxc4,Qc2,Bd6,Qxc4,Bxg3,hxg3,Rhe8,Nc3,Kb8,Rfd1,Rc8,Rac1,Ne5,Nxe5,Rxe5,Bxg4,Nxg4,Ne4,Qh2+,Kf1,Qh1+,Ke2,Qxg2', 'Qxc7+,Rxc7,Rd8+,Rc8,Rcxc8#', 'https://lichess.org/training/WLA5i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLa9w', 'Rapid', 'karaya2', 1959, 'RolandTicar', 1921, 'a3,d5,b4,Bf5,Bb2,e6,d3,Nf6,Nd2,Be7,c4,dxc4,Nxc4,Nbd7,g3,c6,Bg2,Nb6,Rc1,Qc7,Nf3,O-O,O-O,Nxc4,dxc4,Rfd8,Qb3,h5,Nh4,Be4', 'Bxf6,Bxf6,Bxe4', 'https://lichess.org/training/WLa9w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLAL7', 'Rapid', 'EstudiosArkham', 1708, 'dimitriy_mix', 1691, 'e4,e6,Nc3,c5,Bc4,d5,exd5,exd5,Nxd5,Be6,Ne3,Bxc4,Nxc4,Qe7+,Ne2,Nf6,O-O,g6,Re1,Qc7,Nf4+,Be7,d3,O-O,Be3,b6,h4,h5,Qf3,Nc6,Nd5,Nxd5,Qxd5,Rad8,Qf3,Bxh4,Bh6,Rfe8,Ne3,Re6,Nd5,Rde8,Nxc7,Rxe1+,Rxe1,Rxe1+,Kh2,Ne5,Qa8+,Kh7,Qf8', 'Ng4+,Kh3,Rh1#', 'https://lichess.org/training/WLAL7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wlbAS', 'Blitz', 'Eloquest', 1513, 'ffoucaud', 1507, 'd4,Nf6,Bf4,g6,e3,Bg7,c3,d6,Nf3,Nbd7,Bd3,Nh5,Bg3,O-O,Nbd2,a5,Qc2,a4,a3,c5,O-O-O,cxd4,exd4,b6,Nh4,Ba6,f3,Bxd3,Qxd3,Qc8,Bf2,Qb7,Be3,Nhf6,g4,Nd5,Bf2,Nf4,Qe3,Nd5,Qe4,N7f6,Qd3,Nf4,Qf1,N4d5,Ng2,Nc7,h4,Rac8,h5,Ncd5,hxg6,fxg6,g5,Nd7,Ne3,Nxe3,Bxe3,b5,Qh3,h5,Qe6+,Rf7,Qxg6,Nf8,Qxh5,b4,axb4,Qxb4,g6,Rf6,Kb1,Qb7,Ne4,a3,Nxf6+,Bxf6,b4,Rxc3,g7', 'Qxb4+,Ka1,Qb2#', 'https://lichess.org/training/wlbAS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLCgV', 'Rapid', 'drgarnoo', 1752, 'tony68it', 1760, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,c6,Be2,h6,Be3,Nf6,Qd2,Ng4,O-O,Nxe3,Qxe3,Nd7,Nf5,O-O,Qg3,Bg5,f4,Bh4,Qg4,Bf6,Nxh6+,Kh8,Nf5,Nc5,Qh5+,Kg8,Nh6+,gxh6,Qxh6,Bg7,Qh5,Qf6,f5,Qh6,Qg4,a6,Qg3,Kh7,Rf3,Be5,Qg4,Qxh2+', 'Kf2,Rg8,Rh3+,Qxh3,Qxh3+', 'https://lichess.org/training/WLCgV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLDc4', 'Rapid', 'Gambitmat86', 1918, 'jeldithfire', 1860, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,g6,Be2,Bg7,Be3,Nf6,h3,O-O,O-O,Bd7,f4,a6,Qd2,Rc8,f5,Ne5,fxg6,hxg6,Bh6,Nc4,Bxc4,Rxc4,Bxg7,Kxg7,Rae1,Qb6,Ne2,e5,b3,Rcc8,Qg5,Nh7,Qe7,Be6,c3,exd4,Nxd4,Rxc3,Rd1,Rc7,Qh4,Rd7,Kh1,Qd8,Qg3,Qg5,Qc3,Qe5', 'Nxe6+,Kg8,Qxe5', 'https://lichess.org/training/WLDc4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wLdJH', 'Rapid', 'Hamua', 1769, 'vimalnknxyz', 1755, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Bg5,Be7,Nc3,O-O,Qe2,Rb8,b3,Nd5,Bxe7,Nxe7,Rad1,Ng6,f4,Qe7,f5,Ne5,Qh5,Qf6,g4,Nxg4,Qxg4,Qxc3,Rf3,Qf6,Rg3,Rbe8,Rd2,Kh8,Rdg2,Rg8,Rh3,Qa1+,Kf2,Qb2', 'Rxh7+,Kxh7,Qh3#', 'https://lichess.org/training/wLdJH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wlFUm', 'Rapid', 'Asomaie', 1758, 'Zendgame', 1686, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,Be7,O-O,c6,Bb3,Bg4,h3,Bh5,d3,Nbd7,g4,Bg6,Nh4,Qb6,Be3,Qc7,a4,a5,Bc4,d5,exd5,cxd5,Nxd5', 'Nxd5,Bxd5,Bxh4', 'https://lichess.org/training/wlFUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WlgDq', 'Rapid', 'Kosovar', 1706, 'Nurs2010', 1660, 'e4,e5,d4,exd4,c3,dxc3,Bd3,cxb2,Bxb2,Nf6,Nf3,d6,O-O,Be7,Nc3,O-O,Nd5,Nbd7,Nxe7+,Qxe7,Qc2,c5,Rae1,b6,e5,dxe5,Nxe5,Nxe5,Rxe5,Qd7,Bxh7+,Nxh7,Rh5,Nf6', 'Bxf6,Qf5,Rxf5', 'https://lichess.org/training/WlgDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wlGHX', 'Blitz', 'FM Betonschach1', 2317, 'Walter-Bishop', 2268, 'd4,c6,Bg5,Qa5+,Qd2,Qb6,c4,h6,Bf4,g5,Bg3,Bg7,e3,c5,Ne2,Nc6,Nbc3,cxd4,Nd5,dxe3,fxe3,Qc5,Nc7+,Kd8,Nxa8,d6,Rd1,Be6,Nd4,Nf6,Nxe6+,fxe6,a3,Ne4,Qe2,Kd7,Qf3,Qa5+,Ke2,Nxg3+,Qxg3,Rxa8,Qe1,Qa4,Qd2,Rf8,g3,Qxc4+,Ke1,Ne5', 'Bxc4,Nf3+,Ke2', 'https://lichess.org/training/wlGHX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wlHbR', 'Blitz', 'ZET-Bkd', 2175, 'FM Strelok2222', 2480, 'Nf3,Nc6,c3,Nf6,d3,d5,Nbd2,e5,e4,Bc5,Be2,O-O,O-O,a5,a4,dxe4,dxe4,h6,h3,Be6,Qc2,Nh5,Nb3,Bb6,Be3,Bxe3,fxe3,Qe7,Nfd2,Qg5,Bxh5,Qxh5,Rf3,b6,Nf1,Rad8,Rd1,Qg5,Rxd8,Rxd8,Nbd2,Ne7,Kh2,Ng6,Rg3,Qe7,b3,h5,c4,h4,Rf3,Qg5,Nb1,Rf8,Nc3,f5,exf5,Bxf5,Qf2', 'e4,Nxe4,Bxe4,Rxf8+,Nxf8', 'https://lichess.org/training/wlHbR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wLhf9', 'Blitz', 'Yucatan2000', 2419, 'Blackswood', 2243, 'd4,Nf6,c3,g6,Nf3,Bg7,Bf4,d6,e3,O-O,h4,Bg4,Nbd2,Nbd7,Qb3,h6,Bd3,Kh7,h5,Nxh5,O-O-O,Nxf4,exf4,c5,Ng5+,Kh8,Nxf7+,Rxf7,Qxf7,Bxd1,Bxg6,Qf8', 'Rxh6+,Bxh6,Qh7#', 'https://lichess.org/training/wLhf9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLhOa', 'Blitz', 'kkkkiran', 1516, 'giogiotval99', 1567, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Be3,Bd7,Qd2,e6,f3,Be7,O-O-O,O-O,g4,a6,h4,Nxd4,Bxd4,e5,Be3,Rc8,h5,Be6,g5,Nd7,g6,h6,Bxh6,fxg6,hxg6,Rf6,Bxg7,Kxg7,Qh6+,Kg8,Qh7+,Kf8,Qh8+,Bg8,g7+,Kf7,Qh5+,Rg6,Rg1,Bg5+,Kb1,Kxg7,f4,exf4,Nd5,Bh7,Rh1,Rh6,Qf3,Rxh1,Qxh1,Nf6,Nxf4,Bxf4,Qg2+,Kf7,b3,Bxe4,Bc4+,Ke7', 'Qg7+,Ke8,Qf7#', 'https://lichess.org/training/WLhOa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLi6D', 'Rapid', 'PFG1', 1616, 'PAIMAN112', 1670, 'e4,d6,Nf3,h6,d4,a6,Nc3,e6,Bd3,Bd7,O-O,Be7,h3,Nf6,Be3,O-O,Qd2,Nc6,Rad1,e5,dxe5,dxe5,Qe2,Bd6,Nh2,Nd4,Bxd4,exd4,Nd5,Nxd5,exd5,Qg5,Qe4,g6,f4,Qg3,Ng4,Kg7,Rf3,Qh4,Qxd4+,f6,Nf2,b6,Ne4,Bxf4,g3,Bxg3,Rxg3,Bxh3,Qe3,Bg4,Rf1,Rae8,Qd4', 'Rxe4,Qxe4,Qxg3+', 'https://lichess.org/training/WLi6D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wlisx', 'Blitz', 'hjavier23', 1900, 'GarikL', 1789, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Bc4,Nc6,Qd2,Bd7,O-O-O,Qa5,Bb3,Rfc8,Kb1,Ne5,h4,Nc4,Bxc4,Rxc4,Nde2,Rac8,g4,Qc7,Bh6,Bh8,h5,Be6,hxg6,fxg6,Bg5,b5,Nd4,Rxd4,Qxd4,Nd5,Qxh8+,Kxh8,exd5,Bf7,Rh2,b4,Ne4,Kg7,Bh6+,Kg8,Be3,Kg7,Bd4+,Kg8,Rxh7,Kxh7', 'Rh1+,Kg8,Rh8#', 'https://lichess.org/training/wlisx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wlJBB', 'Rapid', 'BMRKN', 1623, 'TbirdV', 1680, 'e4,e6,d4,d5,e5,c5,Be3,Nc6,c3,Nge7,Nf3,Nf5,dxc5,Qa5,b4,Nxb4,cxb4,Qxb4+,Bd2,Qxc5,Bd3,a6,O-O,Nd4,Nxd4,Qxd4,Be3', 'Qxa1,Qd2,Qxe5', 'https://lichess.org/training/wlJBB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wljCE', 'Rapid', 'FM IgorKowalski', 2355, 'SumqayitskiFischer', 1884, 'c4,e5,Nc3,f5,g3,Nf6,Bg2,Nc6,d3,Bb4,e3,d6,Ne2,O-O,O-O,Bxc3,Nxc3,f4,exf4,exf4,Bxf4,Bg4,f3,Bh5,Qd2,Bg6,Ne4,Nd4,Rae1,c5,Bxd6', 'Nxe4,dxe4,Qxd6', 'https://lichess.org/training/wljCE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WlJkt', 'Classical', 'aaennarion', 1667, 'Klodi18', 1770, 'd4,Nf6,c4,b6,Nc3,Bb7,Bg5,e6,Nf3,Bb4,e3,h6,Bxf6,Qxf6,a3,Bxc3+,bxc3,Bxf3,gxf3,O-O,Rg1,d5,Qe2,c5,cxd5,exd5,O-O-O,c4,e4,Re8,Qc2,Qxf3,Bg2,Qf4+,Kb1,dxe4,Rde1,f5,Qa4,Rc8,Qb5,Nc6,Qxc4+,Kh7,Qe6,Na5,Bxe4,fxe4', 'Qg6+,Kh8,Qxg7#', 'https://lichess.org/training/WlJkt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WlKim', 'Blitz', 'IM micfel', 2367, 'Kinxley', 2223, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Nc6,Qe2,Bg4,h3,Bh5,g4,Bg6,d3,O-O-O,Bd2,e6,O-O-O,Bb4,Kb1,Rhe8,a3,Bxa3,bxa3,Qxa3,Na2,Nd5,Ne5,Nd4,Qf1,Nb6,Bb4,Qa4,Rd2,a5,Bc5,Nc6,Nxc6,Qxc6,Bxb6,Qxb6+,Ka1,Qd4+,c3,Qc5,Rb2,Rd6,Qg2,b6,Rhb1,Red8,Bb5,Bxd3', 'Qa8#', 'https://lichess.org/training/WlKim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wlM4g', 'Bullet', 'schweinebraten', 2148, 'CM EgeSsaMaster', 2296, 'e4,g6,h4,Bg7,h5,h6,d4,g5,f3,d6,Nc3,Nf6,Be3,c6,Qd2,e5,O-O-O,Qe7,Bc4,O-O,Nh3,b5,Bb3,Bxh3,Rxh3,a5,a3,Nbd7,dxe5,dxe5,Qd6,Qxd6,Rxd6,Rfc8,Rh1,Bf8,Rd2,Kg7,g4,a4,Ba2,b4,axb4,Bxb4,Rd3,a3,Rhd1,Nc5,Bxc5,Bxc5,Bb3,Rcb8,bxa3,Bxa3+,Kd2,Bb4,Ke2,c5,Nd5,Nxd5,Rxd5,Bc3,Rd7,Bd4,Rxf7+,Kh8,Rf6,Kg7,Rg6+,Kh7,c3,Rxb3,cxd4,Ra2+,Ke1,Re3+,Kf1,Rxf3+,Kg1,Rg3+,Kf1,cxd4,Rc1,Rf3+,Kg1,Ra7,Rcc6,Rg3+,Kf2,Rxg4,Rxh6+,Kg8,Rcg6+,Kf8', 'Rh8+,Kf7,Rh7+', 'https://lichess.org/training/wlM4g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wLmpc', 'Rapid', 'generalmurdock', 1769, 'sparc', 1870, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Bf5,Nc3,e6,d3,Nc6,a3,Be7,Nf3,Nf6,Bg5,Nd7,Bd2,O-O,Qc1,Nde5,h4,Nxf3+,gxf3,Nd4,Bg5,Nxf3+,Ke2,Nxg5,hxg5,Bxg5,f4,Bg4+,Kf2,Bh6,Qe3,Qd6,Rag1,f5,Ne2,Rf6,Rh4,Bxe2,Qxe2,Bxf4,Rgh1,Rh6,Qf3,Rxh4,Rxh4,Bg5,Rh5,Qf4,Qxf4,Bxf4,c4,dxc4,Bxc4,Kf7', 'Rxf5+,Ke7,Rxf4', 'https://lichess.org/training/wLmpc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wlmYf', 'Rapid', 'PaulFernando2002', 2032, 'terminater1233', 2009, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Qe2,Qe7,Nc3,Nf6,Bg5,h6,Nd5,Qe5,f4,Qxb2,Bxf6,gxf6,c3,Qxe2+,Bxe2,f5,e5,O-O,O-O-O,d6,exd6,cxd6,Rhf1,Be6,Nf6+,Kg7,Nh5+,Kg6,Rd3,Rad8,Rg3+,Kh7,Rff3,Bxb3,axb3,Ne7,Bd3,d5,Nf6+,Kh8,Rh3,Kg7,Nh5+,Kg6,Rfg3+,Kh7', 'Nf6+,Kh8,Rxh6#', 'https://lichess.org/training/wlmYf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLN9a', 'Blitz', 'Munchen1878', 2293, 'CapeDuke', 2390, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,c4,Bd7,Nc3,g5,O-O,g4,Ne1,h5,Nc2,Nge7,d4,Ng6,d5,Nce7,Bxd7+,Qxd7,Ne3,f5,exf5,Nxf5,Nxf5,Qxf5,Qe2,O-O-O,b4,Bh6,Bxh6,Rxh6,c5,Nf4,Qe3,dxc5,bxc5,Rf6,c6,b6,Ne4,Nxd5,Qe2,Rxc6,Qxa6+,Kd7,Qd3,Ke7,Rad1,Rd7,f3,Nc3,Qxd7+,Qxd7,Rxd7+,Kxd7,Ng3,h4,Nf5,gxf3,Rxf3,Nxa2,Nxh4,Rc1+,Kf2,b5,Nf5,c5,Ne3,b4,Nd5,Kd6,Ne3,c4,Rf6+,Ke7,Rc6,c3,Ke2,Rb1,Nd5+,Kd7,Nxb4,Rxb4,Rc5,Rb2+,Kd1,Kd6,Rc8,Kd5,h4,Kd4,h5,Ke3,h6,Rd2+,Ke1,c2,h7,c1=Q+,Rxc1,Nxc1,h8=Q', 'Nd3+,Kf1,Rd1#', 'https://lichess.org/training/WLN9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wlo9c', 'Blitz', 'keskispass', 1608, 'stonewall97', 1551, 'f3,e5,e4,d5,exd5,Qxd5,Nc3,Qd8,Bb5+,Bd7,Be2,Nc6,d3,a6,Be3,Bd6,Qd2,Nf6,O-O-O,Qe7,f4,e4,dxe4,Nxe4,Nf3,O-O-O,Bd3,f5,h3,Rhe8,Rhe1,g6,Ng5,Bb4,Ngxe4,fxe4,a3,Bxc3,Qxc3,exd3,Rxd3,Qf7,g4,h5,g5,Bf5,Rxd8+,Rxd8,Bc5,Bxh3,Rd1,Qxf4+,Kb1,Rxd1+,Ka2,Be6+,b3,Qc1,Qh8+,Nd8,a4,Qb1+,Ka3,a5,b4,axb4+,Bxb4,Kd7,Qg7+,Kc6,Qc3+,Kb6', 'Qc5+,Ka6,Qa5#', 'https://lichess.org/training/wlo9c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wLpqp', 'Rapid', 'Less_Grossman', 1606, 'DrErevos', 1786, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,Bd7,Na3,Nge7,Nc2,cxd4,cxd4,Qb6,a3,Nf5,b4,Be7,Bb2,a5,b5,Na7,a4,Rc8,Bd3,O-O,O-O,Rc7,Ne3,Nxe3,fxe3,Rfc8,Qe1,Bb4,Qf2,Be8,Ng5,h6,Nxf7,Rxf7,Qg3,Qc7,Rf3,Rxf3,Qxf3,Qf7,Qg3,Bf8,Rf1,Qe7,Rf6,Kh8,Rf4,Rc7,h4,Kg8,Kh2,Qb4,Qf2,Nc8', 'Rxf8+,Qxf8,Bh7+,Kxh7,Qxf8', 'https://lichess.org/training/wLpqp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WlrYO', 'Classical', 'muhamet2009m', 1666, 'AEHJ', 1662, 'Nf3,e6,c4,Nf6,g3,b6,Bg2,Bb7,O-O,Bc5,Nc3,O-O,d4,Bb4,Qb3,a5,a3,Bxc3,Qxc3,c5,dxc5,bxc5,Ne5,Bxg2,Kxg2,d6,Nf3,h6,b4,a4,bxc5,dxc5,Be3,Qc7,Rfb1,Ng4,Rb5,Nxe3+,Qxe3,Nd7,Rab1,Qc6,Kg1,Rfe8,Ne5,Nxe5,Qxe5,Red8,Qxc5,Qe4,Qc7,Rdc8,Rb8', 'Qxb1+,Rxb1,Rxc7', 'https://lichess.org/training/WlrYO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wLSso', 'Blitz', 'Tsvetkov_Andrey', 2156, 'kazeriahm', 2257, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,e3,Bd6,Bd3,Nbd7,e4,dxe4,Nxe4,Be7,O-O,c5,Nxf6+,Bxf6,d5,exd5,cxd5,O-O,Bf4,Re8,Qc2,h6,Rae1,b6,Rxe8+,Qxe8,Re1,Qd8,Bc7,Qxc7', 'Re8+,Nf8,Bh7+,Kh8,Rxf8#', 'https://lichess.org/training/wLSso');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLsuQ', 'Blitz', 'Kirbee7', 1818, 'chawkibraydi64', 1850, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Nc3,Bd7,Be3,Be7,Bc4,Nf6,Qd2,O-O,O-O-O,a6,Qe2,Ne5,Bb3,Qc8,f4,Nc6,e5,dxe5,fxe5,Nxe5,Rhf1,Bg4,Nf3,Nxf3,gxf3,Bf5,Rg1,Re8,Qg2,Bg6,h4,Bf8,f4,Rxe3,Rdf1,Qf5,Qxb7,Rae8,Qxc7,Ne4,Nxe4,Qxe4,f5,Bxf5', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/WLsuQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wLtnB', 'Blitz', 'anjossendre2', 2278, 'WFM Gzucaritas', 2191, 'c4,Nf6,Nc3,g6,e4,d6,f4,e5,d3,Bg7,Nf3,O-O,fxe5,dxe5,Nxe5,Nxe4,Nxe4,Bxe5,Be2,Qh4+,g3,Qd8,O-O,Bd4+,Kh1,Bh3,Rf4,f5,Nc3,Re8,Rh4,Bg4,Bxg4,fxg4,Rxg4,Qf6,Ne4,Qe5,Bf4,Qf5,Bxc7,Nc6,Nd6,Re1+,Qxe1', 'Qf3#', 'https://lichess.org/training/wLtnB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wLTwl', 'Rapid', 'Muslim114', 1821, 'Loki_Alien', 1769, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Qe2,d5,Nxe5,Bc5,Bb3,Bxf2+,Kd1,Qf6,Bxd5,Qxe5,Bxe4,Bb6,Bc6+', 'Nxc6,Qxe5+,Nxe5', 'https://lichess.org/training/wLTwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLtYc', 'Rapid', 'BerryK', 1875, 'mesutaydin09', 1864, 'd4,g6,c3,Bg7,Nf3,d5,Nbd2,e6,e4,dxe4,Nxe4,Nf6,Bg5,Nbd7,Ne5,O-O,Be2,c5,Nd6,cxd4,cxd4,Qa5+,Bd2,Qb6,Ndc4,Qxd4,Nxd7,Bxd7,O-O,b5,Ne3,Qxb2,Bc3,Qa3,Bxf6,Bxf6,Qxd7,Bxa1,Rxa1,Qb2,Qd1,Rad8,Qe1,Rd2,Kf1,Rfd8,Rb1,Qxa2,Rxb5,a5,Bc4,Qa4,Rb1,f5,Bxe6+,Kg7,Rb7+,Kh6,f3', 'Rd1,Nxd1,Rxd1,Rb1,Rxe1+', 'https://lichess.org/training/WLtYc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wludh', 'Rapid', 'Valdar8', 1907, 'prudnev', 1868, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Bb5,Bd7,O-O,e5,Nf5,a6,Bc4,Be7,b3,O-O,Bb2,Bxf5,exf5,Qd7,Qf3,Nd4,Qh3,Qxf5,Nd5,Qxh3', 'Nxe7+,Kh8,gxh3', 'https://lichess.org/training/Wludh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLwNc', 'Rapid', 'Gogvagog', 1820, 'Gennadiy0209', 1700, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,Nf6,O-O,Bg4,Bxf7+,Kxf7,Ne5+,Kg8,Nxg4,h5,Nxf6+,exf6,Nc3,Bd6,d4,Nc6,Be3,Qd7,d5,Ne5,f4,Ng4,Bc1,Bc5+,Kh1,Nf2+,Rxf2,Bxf2,Ne4,Bb6,c4,h4,b4,a6,Bb2,h3,d6,cxd6,Qd5+,Kf8,c5,hxg2+,Kxg2,Qg4+,Ng3,Bc7,cxd6,Qd7,Qxb7,Rb8', 'Qxc7,Qxc7,dxc7', 'https://lichess.org/training/WLwNc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WLYvv', 'Blitz', 'LeoParra', 2091, 'AtanasovAco', 2074, 'e4,g6,d4,Bh6,c3,Bxc1,Qxc1,c5,dxc5,Qa5,b4,Qc7,a3,Nc6,Nf3,a5,Nbd2,axb4,cxb4,Nf6,Bd3,Nxb4,axb4,Rxa1,Qxa1,O-O,O-O,b6,Rc1,bxc5,bxc5,Bb7,Qd4,Rc8,h3,d6,c6,Bxc6,e5,Ne8,Ne4,Qb7,Neg5,Bxf3,Rxc8,Qxc8,Nxf3,dxe5,Qxe5,e6,h4,Qc7,Qe3,Nf6,Ng5,Ng4,Qg3,Qc1+,Bf1,h5,Qf3,Qc7,Be2', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/WLYvv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wlzvg', 'Classical', 'Zandoid', 1866, 'darkkiller123', 1953, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,g4,Bg6,h4,h6,f4,Bb4,Bg2,Bxc3+,bxc3,Ne7,g5,hxg5,hxg5,Rxh1,Bxh1,Nf5,Qg4,Nd7,Bd2,Qc7,Ke2,O-O-O,Nf3,Rh8,Bg2,Bh5,Qh3,g6,Kf2,Qd8,Rh1,Nb6,Bf1,Kb8,Be2,Nc8,Ne1,Nce7,Qg2,Qa5,Rh3,Qxa2,Qh2,Qa5,Bxh5,gxh5,Rxh5,Rxh5,Qxh5,Nxd4,Qxf7,Nef5,Qd7,Nb5,Qxe6,Qb6+,Kg2,Ne3+,Kh3,Nf1,Qe8+,Kc7,e6,Qf2,Qd7+,Kb6,Kg4,Qe2+,Kf5,Qe4+,Kf6,Nxd2,f5,Qf4,Kg6,Ne4,Qd8+,Ka6,Nd3,Qg3', 'Nb4#', 'https://lichess.org/training/wlzvg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wlzww', 'Rapid', 'Byron_Love', 2217, 'DambaevDashi', 1976, 'e4,d6,Nf3,Nf6,Nc3,e5,Bc4,Be7,O-O,O-O,Re1,Nc6,Ne2,Nxe4,d4,exd4,Nexd4,Nxd4,Rxe4,Nxf3+,Qxf3,d5,Bxd5,Qxd5,Rxe7,Qa5,Qg3,Be6', 'Bh6', 'https://lichess.org/training/wlzww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wm08M', 'Bullet', 'Kova111', 1671, 'Grossik', 1778, 'e4,d5,e5,c5,f4,e6,Bb5+,Nc6,Nf3,Bd7,c3,c4,d3,a6,Ba4,b5,Bc2,Bc5,d4,Be7,O-O,g6,Qe1,Nh6,h3,Nf5,g4,Ng7,Nbd2,O-O,Qg3,a5,Rf2,b4,Nf1,bxc3,bxc3,a4,Ne3,Qa5,Bd2,Ba3,Rb1,Be7,f5,exf5,gxf5,Nh5,Qg4,Rfb8,Rg2,Rxb1+,Bxb1,Rb8,Bc2,Kf8,Qxh5,gxh5,f6,Rb2,Nxc4,dxc4', 'Bh6+,Ke8,Rg8+,Bf8,Rxf8#', 'https://lichess.org/training/Wm08M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wm1pG', 'Rapid', 'tps57', 1956, 'Sour_Wine', 2041, 'd4,f5,h3,e6,c3,Nf6,Bf4,Be7,Nf3,d6,e3,O-O,a3,b6,Bc4,d5,Bd3,Ne4,Nbd2,Nd7,Ne5,Nxe5,Bxe5,Bf6,Nf3,Bd7,Bxf6,Qxf6,O-O,Rad8,Bxe4,fxe4,Ne5,Qg5,Qe2,a6,Qxa6,Qe7,f3,exf3,Rxf3,Rxf3,Nxf3,Qe8,Qe2,Bb5,Qd2,c5,Ne5,cxd4,exd4,Qh5,Re1,Rf8,Qe3,Qh4,Nf3,Qg3,Qxe6+,Kh8,Qe3,h6,Ne5', 'Rf1+,Rxf1,Qxe3+', 'https://lichess.org/training/wm1pG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wm2Se', 'Rapid', 'Fateme-Queen', 2076, 'sreyla', 2093, 'e4,c5,d4,cxd4,c3,Nc6,cxd4,d5,e5,e6,Nf3,Nge7,Bd3,g6,Nc3,a6,a4,Bg7,O-O,O-O,Be3,b6,Qd2,Bb7,Bh6,Rc8,Rab1,Nb4,Be2,Nf5,Bg5,Qd7,Nd1,Qxa4,Ra1,Qxa1,Qxb4,Qa5,Qb3,b5,Ne3,Nxe3,Qxe3,Qb4,Qf4,Qxb2,Qh4,Qxe2,Re1,Qb2,Bf6,Rc1,g3,Rxe1+,Nxe1,Qb4,Nf3,Qb1+,Kg2,Qf5,Bg5,b4,Be7,Rc8,Bxb4,Rc4', 'Qd8+,Bf8,Qxf8#', 'https://lichess.org/training/wm2Se');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wm3qV', 'Rapid', 'luisfer2020', 1937, 'erikmartin', 2047, 'e4,Nc6,d4,e5,d5,Nce7,c4,Ng6,Nf3,Nf6,Bd3,Bc5,O-O,d6,a3,a6,b4,Ba7,Nc3,h5,h3,h4,Bg5,Nf4,Bc2,Rh5,Bxh4,Nxh3+,gxh3,Bxh3,Bg3,Ng4,Nh2,Rg5,Nxg4,Rxg4,Kh2,Bxf1,Qxf1,Qg5,Qh3,O-O-O,Bh4', 'Qxh4,Qxh4,Rxh4+', 'https://lichess.org/training/Wm3qV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wm3tO', 'Rapid', 'DelboyTrotter', 1946, 'Kirill_T', 1989, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,O-O,h3,Nc6,Nxc6,bxc6,O-O,Be6,Bxe6,fxe6,Be3,d5,e5,Nd7,f4,c5,Ne2,d4,Bd2,Rb8,b3,Nb6,c3,Nd5,cxd4,cxd4,Nxd4,Qd7,Qg4,Bb4,Bxb4,Rxb4,Qxe6+,Qxe6,Nxe6,Re8,Rfd1,Rxe6,Rxd5,Rxf4,Rf1,Rxf1+,Kxf1,Kf7,Ra5,a6,Kf2,Ke7,Ke3,Kd7,Ke4,g6,g4,Rc6,Rd5+,Ke6,a3,Rc3,Rd3,Rc5,Rd8,Rxe5+,Kf4,g5+,Kf3,Kf7,Rd7+,Re7,Rxe7+,Kxe7,Ke4,Ke6,b4,c6,a4,h6,Kd4,Kd6,Kc4,Kc7,Kc5,Kb7,Kd6,Kb6,Ke6,a5', 'bxa5+,Kxa5,Kd6', 'https://lichess.org/training/Wm3tO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WM6Ew', 'Rapid', 'Dedicatus_545', 1794, 'hseyinttuncu', 1803, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Be3,Bg7,Qd2,a6,Nc3,b5,a3,Bd7,Bd3,Nc6,O-O,Nxd4,Nd5,e6,Nf4,Rc8,c3,Nc6,Bd4,Nxd4,cxd4,Bxd4,Rfe1,e5,Nd5,Ne7', 'Nf6+,Kf8,Qh6#', 'https://lichess.org/training/WM6Ew');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wM7LK', 'Classical', 'Mattiias94', 1879, 'Colonel', 1923, 'e4,e5,Nf3,Nc6,Bb5,Nge7,Nc3,g6,d4,Bg7,d5,Nd4,Nxd4,exd4,Ne2,c6,Bc4,Qb6,O-O,d6,Re1,O-O,c3,dxc3,bxc3,Qc5,Qd3,cxd5,exd5', 'Bf5,Qg3,Qxc4', 'https://lichess.org/training/wM7LK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WM9Eo', 'Blitz', 'BlindSwine', 1745, 'oysteineklund', 1723, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,a6,Ba4,Bc5,Re1,d6,h3,Be6,c3,Qd7,d4,exd4,cxd4,Ba7,d5,Bxh3,dxc6,Qg4,cxb7+,Ke7,Nh4,Qxh4,bxa8=Q', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/WM9Eo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WM9gr', 'Rapid', 'narasimhaprasad', 1728, 'gramps', 1891, 'Nf3,Nf6,d4,d5,Bf4,c5,e3,Nc6,c3,Qb6,Qc2,g6,Be2,Bg7,Nbd2,Bf5,Bd3,Bxd3,Qxd3,Qxb2,O-O,c4,Qe2,Qxc3,Ne5,Nxe5,Bxe5,O-O,Nf3,Ne4,Bxg7,Kxg7,Rfc1,Qd3,Qb2,c3,Qxb7,Rab8,Qxd5,Rb2,Qe5+,Kg8,Qc7,Rxf2,Ne5,Qxe3,Ng4,Rf1+,Kxf1', 'Nd2#', 'https://lichess.org/training/WM9gr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMb08', 'Rapid', 'Mr-Pink', 1836, 'mario1979', 1864, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,e6,Bd3,g6,Nf3,Bg7,Bg5,Bf6,Bh6,Be7,O-O,f6,Qb3,Kf7,d5,cxd5,exd5,Qxd5,Bc4,Qh5,Bxe6+,Bxe6,Qxb7,Nd7,Nd4,Qd5,Qa6,Nc5,Qe2,g5,Rfe1,Rhe8,Rad1,Bd6,Qh5+,Kg8,Nxe6,Rxe6,g3,Rxe1+,Rxe1,Qf5', 'Re8+,Bf8,Rxa8,Qb1+,Kg2', 'https://lichess.org/training/WMb08');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMbpk', 'Blitz', 'Romario300', 1904, 'ZB_AM', 1884, 'e4,c6,f4,d5,e5,Bf5,Nf3,e6,c3,Ne7,d3,Nd7,Be2,g6,Na3,Bg7,Nc2,O-O,O-O,c5,Qe1,Qb6,Kh1,Rac8,h3,h5,Nh2,c4,Nd4,Bxd3,Bxd3,cxd3,g4,hxg4,hxg4,Nc5,Qh4,Rfe8,g5,Ne4,Ng4,Nf5,Nxf5,exf5,Nf6+,Kf8,Qh7,Ng3+,Kg2,Nxf1,Kxf1,Qb5,Bd2,Qxb2,Rd1,Qc2,Ke1,Rc4', 'Qg8+,Ke7,Qxe8#', 'https://lichess.org/training/WMbpk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WmBqN', 'Rapid', 'mahdipc1', 1720, 'tiger5976', 1707, 'd4,b6,e4,Bb7,d5,c6,Nc3,Nf6,Bg5,h6,Bxf6,gxf6,Nf3,e6,a3,cxd5,exd5,Qe7,dxe6,fxe6,Bc4,d5,Bb5+,Nc6,O-O,O-O-O,Nd4,Qd6,Nxc6,Bxc6,Ba6+,Kb8,b4,Qe5,b5,Bd6,f4,Qxc3,bxc6,Qxc6,Qd4,e5,fxe5,Bxe5,Qf2,Bxa1,Rxa1,Rdg8,Qf4+,Ka8,a4,Qxc2,g3,Qc5+,Kh1,Qc3,Rf1,Rf8,Qd6,Rd8,Qe7,Qc6,Bb5,Qb7,Qxf6,d4+', 'Bc6,Rhf8,Bxb7+', 'https://lichess.org/training/WmBqN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wMd9l', 'Rapid', 'rodalche', 1784, 'Bagration555', 1737, 'Nf3,c6,g3,d5,Bg2,Nf6,O-O,Bf5,d3,e6,Re1,Be7,a3,O-O,Nbd2,Nbd7,e4,dxe4,dxe4,Bg4,c3,Qa5,h3,Bh5,b4,Qc7,Qc2,Rac8,e5,Bg6,Ne4,Nxe4,Rxe4,Bxe4,Qxe4,Nb6,Bg5,Nd5,Bxe7,Qxe7,Qd3,h6,Nd2,Rfd8,Ne4,Nxb4,Qf3,Nd3,Qh5,Rd5,Nf6+,gxf6,Qg4+,Kh7,Bxd5,Nxe5,Be4+,f5,Qf4,Ng6,Bxf5,exf5,Qxf5,Rd8,h4,Qe5,Qxf7+,Qg7,Qf3,Rd2,Re1,Rc2,Qe4,Rxc3', 'h5,Kg8,hxg6', 'https://lichess.org/training/wMd9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wmE71', 'Blitz', 'vlado691', 2106, 'Roadto2_1k', 2095, 'e4,e5,Nf3,Nf6,d3,Nc6,c4,Bc5,Be2,O-O,Nc3,d6,O-O,Be6,Nd5,a6,Bg5,h6,Nxf6+,gxf6,Bxh6,Re8,Kh1,Kh7,Be3,Rg8,Bxc5,dxc5,Ng1,f5,exf5,Bxf5,f4,exf4,Rxf4,Bg6,Nh3,Kg7,Bh5,Qd6,Qg4,Ne5,Qg5,Nxd3,Rg4,Rae8,Rf1,Rgf8,Bxg6,fxg6,Rd1,Nf2+,Nxf2', 'Qxd1+,Nxd1,Rf1#', 'https://lichess.org/training/wmE71');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMe96', 'Rapid', 'CaroGambit', 1894, 'h6HuXu', 1810, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Bg4,d4,Nc6,Be3,Ne4,O-O,Nxc3,bxc3,O-O-O,Qd2,Bxf3,gxf3,Qh5,Qe2,Qg6+,Kh1,e6,Rab1,Bd6,f4,h5,Qf3,e5,Ba6,e4,Bxb7+,Kd7,Qh3+,f5,Rg1,Qf7,Rg5,Ne7,Bxe4,g6,Rbg1,Ke8,Bd3,Qxa2,c4,Qa5,c5,Bxc5,dxc5,Rg8,c6,Qd5+,Qg2,Qxg2+,R1xg2,Nxc6,Rxf5,a5,Bb5', 'Rd1+,Rg1,Rxg1+,Kxg1,gxf5+', 'https://lichess.org/training/WMe96');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMfR2', 'Blitz', 'Castanedo', 1850, 'FM BuuFisher', 2195, 'e4,c5,Nc3,e6,Nf3,a6,d4,cxd4,Nxd4,Qc7,Bd3,Nf6,Bg5,Nc6,Nxc6,bxc6,O-O,Be7,Re1,d5,e5,Ng8,Bxe7,Nxe7,Qh5,c5,Ne2,c4,Bxh7,Qxe5,Qxe5,Rxh7,Nf4,Bd7,c3,Nc6,Qxd5,O-O-O,Qc5,g5,Nh3,g4,Ng5,Rh5,Nxf7,Rxc5,Nxd8,Kxd8,Rad1,Ke7,Re4,Ne5,Rde1,Nd3,R1e2,e5,a3,Kd6,Rd2,Bf5,Re3,Rb5,f3,Rxb2', 'Rexd3+,cxd3,Rxb2', 'https://lichess.org/training/WMfR2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wMht5', 'Classical', 'marinkatomb', 2043, 'Jordanov', 1780, 'Nf3,d5,d4,Nc6,c4,e6,a3,Nf6,Nc3,dxc4,Bg5,g6,e4,Be7,Bxc4,h6,Bxf6,Bxf6,e5,Bg7,O-O,a6,Qd2,b5,Ba2,Bb7,Rfe1,Ne7,d5,Nxd5,Rad1,Nxc3,Qxc3,Qe7,b4,Bxf3,Qxf3,O-O,Qc6,Rfd8,f4,f5,Bxe6+,Kh7,Rd7,Rxd7,Bxd7,Rd8,Rd1,h5,Qxc7,Rg8,Qc6,Rd8,Qc5', 'Rxd7,Qxe7,Rxe7', 'https://lichess.org/training/wMht5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMIzb', 'Rapid', 'pratylenchus', 1937, 'fortiman', 1788, 'e4,c5,Bc4,e6,e5,g6,Nf3,Bg7,O-O,d6,exd6,Qxd6,c3,Ne7,d4,cxd4,cxd4,O-O,Nc3,Nbc6,a3,Nxd4,Nxd4,Qxd4,Qe2,a6,Be3,Qd8,Rad1,Qc7,Ne4,b5,Bb3,Bb7,Nd6,Bd5,Bxd5,Nxd5,Ne4,Rac8,b4,Nc3,Nxc3,Qxc3,Rc1,Qxa3,Bc5,Rfe8,Qd2,Bf8,Qd7,Bh6,Be3,Bxe3', 'Rxc8,Rxc8,Qxc8+,Kg7,fxe3', 'https://lichess.org/training/WMIzb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wMj5y', 'Classical', 'notengocuenta', 1843, 'svayam', 1835, 'd4,Nf6,Nc3,d5,Bg5,Nbd7,Nf3,c6,e3,e6,Bd3,Qc7,O-O,Be7,h3,e5,dxe5,Nxe5,Bf4,Bd6,Bg5,Nxd3,cxd3,Nd7,Rc1,a6,Nxd5,Qb8,Nc3,h6,Bf4,Bxf4,exf4,O-O,Qd2,Nf6,Rfe1,Nh5,Ne5,Nf6,Qe3,Be6,g4,Qc7,f5,Bd7,Nxd7,Qxd7,Ne4,Nd5,Qg3,Rad8,Nc5,Qc8,g5,hxg5,Qxg5,Nf6,Re7,Nh7,Qg4,Nf6,Qg5,Nh7,Qf4,b6,Ne4,Rd7,Rxd7,Qxd7,Qd6,Qxf5,Rxc6,Qxh3,Qg3,Qd7,Rxb6,a5,Rd6,Qb7,b3,a4,Nc5,Qc7,Nxa4,Rc8,b4,Nf6,Nc5,Ra8,Qg5,Kf8,Ra6,Rxa6,Nxa6,Qd6,b5,Qxd3,Qc5+,Kg8,Qc8+,Kh7,b6,Qd1+,Kg2,Qd5+,f3,Qg5+,Kf2,Qd2+,Kg3,Qg5+,Kf2,Qd2+,Kg3,Qg5+,Kh3,Qh6+,Kg2,Qg5+,Kf1,Qb5+,Ke1,Qe5+,Kd2,Qb2+,Kd3,Qa3+,Kc4', 'Qc1+,Kb5,Qxc8', 'https://lichess.org/training/wMj5y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wmkCJ', 'Rapid', 'joel33', 1694, 'juegasiempre', 1657, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bg5,e6,Bc4,Be7,O-O,b5,Bd3,h6,Bh4,Qb6,Rb1,Qxd4', 'Bxb5+,axb5,Qxd4', 'https://lichess.org/training/wmkCJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wmkDG', 'Rapid', 'TheCarBoi', 1826, 'GROM83', 1766, 'd4,e6,c4,c6,Nc3,a6,e4,d6,Nf3,b5,Bg5,Qc7,a3,Bb7,Bd3,h6,Bh4,Nd7,Bg3,Rd8,c5,e5,dxe5,dxe5,O-O,Bxc5,Qc2,Be7,Rad1,Ngf6,Rfe1,O-O,b3,c5,a4,c4,bxc4,bxc4,Bf1,Qc5,Rd2,Nh5,Red1,Nxg3,hxg3,Bc6,Nd5,Bxd5,Rxd5,Qc7,Bxc4,Nb6,Rxd8,Rxd8', 'Bxf7+,Kxf7,Qxc7', 'https://lichess.org/training/wmkDG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wMKE1', 'Rapid', 'manoorkar', 1793, 'Aegen', 1789, 'Nf3,d5,g3,Nc6,Bg2,e5,d4,e4,Ng5,Bb4+,Nc3,Nf6,Bd2,Bg4,Nh3,O-O,Nf4,Qd6,a3,Ba5,Nb5,Qd7,Bxa5,Nxa5,Nc3,Nc4,Qc1,Rfe8,b3,Nb6,e3,Rac8,Na4,Nxa4,bxa4,Qxa4,O-O,c5,h3,Bd7,Rd1,cxd4,Rxd4,Qxc2,Qxc2,Rxc2,Nxd5,Nxd5,Rxd5,Bc6,Ra5,a6,Rd1,h6,Rf5,Ra2,Ra5,Bb5,Bf1,Rc8,Bxb5,axb5,Rxb5,Rxa3,Rxb7,Ra2,h4,Rcc2,Rf1,Kh7,Rxf7,Kg6,Rf4,Rc4,Rd1,Rcc2,Rd4,Ra1+,Kg2,Rcc1,Rdxe4,Rg1+,Kf3,Ra2,Re6+,Kh7,Rg4,Rf1,Reg6,Rfxf2+,Ke4,Ra4+,Kd5,Ra5+,Kc4,Rf7,e4,Rc7+,Kb4,Ra8,e5,Rc1,Rxg7+,Kh8,R7g6', 'Rb8+,Ka5,Ra1+,Ra4,Ra8+', 'https://lichess.org/training/wMKE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WmM0y', 'Classical', 'Michaeldagr81', 1709, 'wolfalex', 1701, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d4,exd4,e5,Ng4,h3,Ngxe5,Nxe5,Nxe5,Re1,Be7,Rxe5,d6,Qf3,O-O,Rh5,Bf6,Bxh6,gxh6,Rxh6,Kg7,Rh5,Rg8,Qb3,Qe7,Bxf7,Qxf7', 'Rh7+,Kxh7,Qxf7+', 'https://lichess.org/training/WmM0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMN7G', 'Blitz', 'storm282015', 1694, 'Kaspird33', 1742, 'Nf3,d5,c4,c6,d4,e6,Nc3,Nf6,Bg5,Be7,h4,Nbd7,Qd2,h6,Bxf6,Nxf6,e4,dxe4,Nxe4,Nxe4,Qe3,Nf6,O-O-O,O-O,Bd3,Ng4,Qe2,Nf6,Ne5,b5,g4,bxc4,Bxc4,Bb7,g5,Nd5,gxh6,g6,h7+,Kh8,h5,g5,Qf3,Nf4,h6,Nd5,Nxf7+,Rxf7,Qxf7,Qf8,Qg7+,Qxg7,hxg7+,Kxg7,f4,gxf4,Rdg1+,Kh8,Rh6,Ne3,Bxe6,c5,dxc5,Bxc5,Rhg6,Nd5,Rh1,Nf6', 'Rg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/WMN7G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wmNui', 'Blitz', 'koureas25', 1879, 'dencs99', 1910, 'd4,c5,dxc5,e6,c4,Bxc5,Nc3,Nf6,Nf3,O-O,e3,d5,cxd5,exd5,Be2,Nc6,O-O,Bf5,a3,Re8,b4,Bb6,Bb2,d4,exd4,Nxd4,Nxd4,Bxd4,Bb5,Bg4,Qb3,Re5,Bc4,Bh5,Rfe1,Ng4,Rxe5,Bxf2+,Kf1,Nxe5,Kxf2,Qh4+,Kg1,Ng4,h3,Qf2+,Kh1,Ne3,Rg1,Bf3,Nd1', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/wmNui');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WmoNC', 'Rapid', 'Todamont', 1854, 'parjosse', 1718, 'e4,e5,Nf3,Nc6,Bc4,g6,d4,Bg7,dxe5,Nxe5,Nxe5,Bxe5,O-O,Ne7,f4,Bg7,f5,f6,fxg6,hxg6,Qg4,d5,Qg3,dxc4,Nc3,c6,Bf4,Be6,Rad1,Qc8,Bd6,Kf7,Bxe7,Kxe7,Qxg6,Qf8,e5,Rh6,exf6+,Qxf6', 'Rxf6,Rxg6,Rxg6', 'https://lichess.org/training/WmoNC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wMoVA', 'Rapid', 'z52', 2172, 'batmanbegins', 2066, 'e4,c5,Nf3,d6,d4,cxd4,c3,Bg4,Bb5+,Nd7,O-O,Nf6,Qe2,a6,Bxd7+,Nxd7,cxd4,g6,Be3,Bg7,Nbd2,O-O,h3,Bxf3,Nxf3,b5,Rac1,Rc8,Rfd1,Qa5,a3,Nb6,Bd2,Qa4,Qd3,Nc4,Bc3,a5,Nd2,Nxd2,Qxd2,b4,axb4,axb4,Bxb4,Ra8,Rc7,Bh6,Qe1,Rfe8,Ba3,Rac8,Rxc8,Rxc8,e5,dxe5,dxe5,e6,Qe2,Bf4,Re1,Qc2,Qxc2,Rxc2,g3,Bd2,Rb1,Ba5,b4,Bb6,Rf1,Ra2,Bc1,Kg7,g4,h6,Bf4,g5,Bg3,Rb2,Rc1,Rb3,Kg2,Rxb4,Rc6,Bd4,Rd6,Bc5,Rd7,Kg6,h4,Rxg4,h5+,Kg7,Kf3,Rd4,Rb7,g4+,Ke2,Re4+,Kd3,Rd4+,Kc3,Re4,Rc7,Bd4+,Kd3,Bxe5', 'Kxe4,Bxc7,Bxc7', 'https://lichess.org/training/wMoVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMP5M', 'Rapid', 'CJ58', 1864, 'Piloto_Pirx', 1848, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,Nge7,d4,Ng6,dxe5,Ncxe5,Nc3,O-O,Nxe5,Bxe5,f4,Bd6,Be3,Be7,f5,Ne5,Bd4,f6,Bxe5,fxe5,Bc4+,Kh8,Rf3,b6,Rh3,Bb7', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/WMP5M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wMpG8', 'Rapid', 'BiteOneDust', 2164, 'AleksandrZZZ', 2092, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Be7,e5,Ne4,Nxd4,O-O,Nf5,d5,exd6,Nxd6,Nxe7+,Nxe7,Bb3,Ng6,Re1,Bd7,Nc3,Bc6,Qh5,Qh4,Qc5,Qg4,Bd5,Nh4,Bxc6,bxc6,Qxc6,Rae8,Rxe8,Rxe8,Be3,f5,Rd1,Re4,Qd5+,Kf8,g3,Nf3+,Kg2,Nh4+,Kh1', 'Qf3+,Kg1,Qg2#', 'https://lichess.org/training/wMpG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wMpGn', 'Blitz', 'keerthi-rana', 2041, 'Taghbostan_Chess64', 2137, 'c4,e5,Nc3,Nc6,g3,Nf6,Bg2,Bb4,Nf3,O-O,O-O,d6,d3,Bxc3,bxc3,Re8,Rb1,Rb8,Bg5,h6,Bxf6,Qxf6,Nd2,Bd7,e4,b6,f4,exf4,d4,Nxd4,cxd4,Qxd4+,Kh1,fxg3,hxg3,Re5,Qf3,Rf8,Rf2,f5,Rbf1,Rf6,exf5,Rexf5,Qa8+,Rf8,Qxf8+,Kxf8,Rxf5+,Bxf5,Rxf5+,Ke7,Nf3,Qxc4,Nh4,Qxa2,Ng6+,Ke6,g4,h5,Nf8+,Ke7,Ng6+,Ke6,Nf4+,Ke7,Ng6+,Ke8', 'Bc6+,Kd8,Rf8#', 'https://lichess.org/training/wMpGn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WmRyQ', 'Rapid', 'xdeabru', 2004, 'd2min', 2113, 'c4,e6,Nc3,d5,cxd5,exd5,g3,d4,Nb5,c6,Na3,Bxa3,bxa3,Qd5,Nf3,Nf6,Bg2,O-O,a4,Bg4,Ba3,Re8,O-O,Qh5,Bb2,c5,Rc1,Nbd7,Re1,d3,exd3', 'Rxe1+,Qxe1,Bxf3,Bxf3,Qxf3', 'https://lichess.org/training/WmRyQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wMsJJ', 'Blitz', 'shahmatistsan', 1941, 'turbo777', 1952, 'e4,d5,exd5,Nf6,c4,e6,d4,exd5,c5,Nc6,Nc3,Bf5,Nf3,Nb4,Qa4+,Nc6,Bb5,Bd7,Bg5,Be7,Bxf6,Bxf6,Nxd5,O-O,Nxf6+,Qxf6,O-O,a6,Bxc6,Bxc6,Qd1,Qg6,d5,Bd7,Ne5,Qf5,Nxd7,Qxd7,Qf3,Qb5,Qc3,Rad8,Rfd1,Rd7,Rd2,Rfd8,Rad1,Qa4,a3,h6,Rd4,Rxd5,Rxd5', 'Qxd1+,Rxd1,Rxd1+,Qe1,Rxe1#', 'https://lichess.org/training/wMsJJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WmSQc', 'Rapid', 'Nunhaw', 1708, 'tezec', 1736, 'd4,d5,Nf3,c5,dxc5,e6,e3,Bxc5,Bb5+,Nd7,O-O,Nf6,Ne5,O-O,Bxd7,Nxd7,Ng4,Nf6,Qf3,Ne4,Nc3,Nxc3,bxc3,Bd7,Qh3,e5,Rb1,Qg5,f3,e4,Rxb7,Bxe3+', 'Bxe3,Qxe3+,Nxe3', 'https://lichess.org/training/WmSQc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WmurE', 'Rapid', 'dmprosh', 1660, 'ParanoiDdoper13', 1616, 'e4,e5,Nf3,Ke7,Nxe5,Ke6,d4,d6,Bc4+,Ke7,Bg5+,f6,Bh4,dxe5,dxe5,Qxd1+,Kxd1,Nc6,exf6+,Nxf6,Nc3,Be6,Bxe6,Kxe6,Re1,Rd8+,Ke2,Bb4,a3,Nd4+,Kd3,Nf3+,Ke2,Nxh4,axb4,a6,Kf1,Rd2,e5,Ng4,Re4,h5,Kg1,Rxf2,Rxg4,hxg4,Kxf2,Rf8+,Kg3,Nf5+,Kxg4,Ne3+,Kg3,Nxc2,Ra4,c6,h4,Rf5,Kh3,Rxe5,g4,Re3+,Kg2,Ke5,Kf2,Rd3,b5,Rd2+,Kf3,Nd4+,Ke3,Rh2,Rxd4', 'Rh3+,Kf2,Kxd4', 'https://lichess.org/training/WmurE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wmv3U', 'Rapid', 'Surya01', 2188, 'erdal_sarikulak', 2130, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,O-O,O-O,h3,Bf5,Re1,Bxd3,Qxd3,Ng6,Bg5,f6,Be3,c6,Nbd2,Nd7,Nf1,Re8,c3,Ndf8,g4,Nf4,Bxf4,Bxf4,Kg2,Bc7,Ng3,Qd6,Qf5,Ng6,Rxe8+,Rxe8,Re1,Rxe1,Nxe1', 'Nh4+,Kf1,Nxf5', 'https://lichess.org/training/Wmv3U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMVg2', 'Rapid', 'sexikaapio', 1941, 'SAMBILNGOPIDONG', 1923, 'Nf3,c5,c4,Nc6,d4,cxd4,Nxd4,e5,Nc2,Nf6,Nc3,a6,e4,Bb4,Nxb4,Nxb4,Be3,O-O,Be2,d6,O-O,Be6,f4,exf4,Bxf4,Qb6+,Kh1,Rad8,b3,h6,Bxh6,gxh6,Rxf6,Qe3,Nd5,Bxd5,exd5,Qc3,Rxh6,Kg7,Rh3,Qe5,Bh5,Rh8,Qg4+,Kf8,Rf1,Rh7,Qg6,Qg7,Qxg7+,Rxg7,a3,Nc2,Bxf7,Rxf7,Rh8+,Ke7', 'Rxf7+,Kxf7,Rxd8', 'https://lichess.org/training/WMVg2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMvkY', 'Blitz', 'Yucatan2000', 2395, 'FM AndrsPalu', 2322, 'd4,Nf6,Nf3,e6,Bf4,c5,c3,Nc6,e3,cxd4,exd4,d5,Bd3,Bd6,Bg3,Bxg3,hxg3,O-O,Nbd2,Re8,Ne5,g6,f4,a6,Qe2,Qc7,g4,Nxe5,fxe5,Nd7,Qe3,Nf8,O-O-O,b5,Kb1,Rb8,Rh3,b4,c4,dxc4,Nxc4,b3,a3,Rd8,Rdh1,a5,Nd6,Rxd6,exd6,Qxd6,Qe5,Qxe5,dxe5,Bb7,R3h2,Rd8,Rd1,Rxd3', 'Rxd3,Be4,Rh3', 'https://lichess.org/training/WMvkY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wmw2C', 'Blitz', 'FM Willhaven', 2412, 'peoncito1991', 2298, 'd4,g6,Nf3,Bg7,c4,d6,Nc3,Nf6,e4,O-O,Be2,Nc6,Be3,e5,d5,Nb8,Nd2,a5,c5,Na6,cxd6,cxd6,Nc4,b5,Nxb5,Nxe4,f3,Nec5,Ncxd6,Bd7,Rc1,Bxb5,Nxb5,Qh4+,Bf2,Qb4+,Qd2,Rfc8,Be3', 'Nd3+,Bxd3,Rxc1+', 'https://lichess.org/training/Wmw2C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wmXCr', 'Rapid', 'YeahShearIt', 1634, 'gerakoei', 1772, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,a3,c6,Bg5,Be7,Be2,O-O,h3,Re8,Nf3,Bf5,O-O,Nbd7,Re1,Bd6,Bd3,Bxd3,Qxd3,Qc7,b4,a6,Bd2,Bf4,Ne2,Bd6,Qf5,Ne4,Nc3,Ndf6,Nxe4,dxe4,Ng5,Qe7,Re3,g6,Qa5,Bf4,Rxe4,Bxd2,Rxe7,Rxe7,Nf3,Bc3,Qg5,Nd5,Rd1,Rae8,Kh2,Re2,Qh6,Rxf2,Ng5,Nf6,Qh4,Ree2,Rg1,Rxc2,Rc1,Rxg2+,Kh1,Rxc1+,Kxg2,Rc2+,Kf3,Nh5,Ne4,Bxd4', 'Qd8+,Kg7,Qxd4+', 'https://lichess.org/training/wmXCr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMY00', 'Rapid', 'nerhim41', 1668, 'ronniak2', 1749, 'e4,Nc6,f4,d5,e5,e6,Nf3,Bc5,d4,Bb6,Be3,Nge7,Bd3,O-O,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,f5,exf6,Rxf6', 'Nxe6+,Kf7,Nxd8+', 'https://lichess.org/training/WMY00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMy2H', 'Blitz', 'demihai', 1885, 'joloyolo13', 1892, 'e4,c5,Nf3,e6,c3,a6,d4,cxd4,cxd4,d5,e5,Nc6,Nc3,Bb4,a3,Bxc3+,bxc3,Nge7,Bd3,O-O,O-O,h6,a4,Na5,Ba3,Re8,Qe2,Qc7,Bd6,Qxc3,Rac1,Qb3,Rc7,Nac6,Rc1,Qxa4,Bb1,Ng6,g3,Nxd4,Nxd4,Qxd4,Qh5,Qd2,Bxg6,fxg6,Qxg6,Bd7,Rxd7,Qxc1+,Kg2,Qg5', 'Rxg7+,Kh8,Qh7#', 'https://lichess.org/training/WMy2H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WmYEW', 'Blitz', 'allikhin1984', 1613, 'ketanwagh', 1609, 'd4,f5,e4,fxe4,Qh5+,g6,Qe5,d5,Qxh8,Nf6,Bg5,Nbd7,Nc3,e6,h4,Kf7,h5,Qe7,hxg6+,Kxg6,Be2,Bg7,Bh5+,Kxg5,Nh3+,Kxh5,Nf4+,Kg4,Qxh7,Nxh7,Rxh7,Kxf4,Rh5,Nf6,Ne2+,Kg4,Rh3,Bd7,O-O-O,Rh8,Rg3+,Kf5,f3,c6,fxe4+,Nxe4', 'Rf1+,Nf2,Rxf2+,Ke4,Rf4#', 'https://lichess.org/training/WmYEW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wmyp5', 'Bullet', 'Alexx11', 2007, 'kiritoswordartonline', 1887, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,c6,Bc4,b5,Bb3,Bd6,Qh5,g6,Qf3,Qf6,Qxf6,Nxf6,d3,Nh5,g3,O-O,f4,Bb7,Nd2,c5,Nf3,Rfc8,c4,dxc3,bxc3,c4,dxc4,Bxe4,cxb5,Rxc3,Nd4,Bc5,Rd1,Bd3,Be3,Re8,Bf2,Re4,Nf3,Bxf2+,Kxf2,Re2+,Kg1,Be4,Ng5,Rxg3+,hxg3', 'Rg2+,Kf1,Nxg3+,Ke1,Re2#', 'https://lichess.org/training/wmyp5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wMza3', 'Rapid', 'Lover_chess_player', 1897, 'RobinR', 2081, 'e4,c5,g4,Nc6,f4,g6,Nf3,Bg7,c3,d6,Bb5,Qb6,Bxc6+,Qxc6,Qc2,Bxg4,O-O,Nf6,e5,Bxf3,exf6,Bxf6,d4,cxd4,Qf2,Bg4,cxd4,Bh3,Re1,Bxd4,Be3,Bg7,Nc3,O-O,Rac1,Qc4,b3,Qxc3,Rxc3,Bxc3,Rc1,Rac8,Qf3,Bf5,Qxb7,a5,Qxe7,Rfe8,Qa7,Bb4,Rxc8,Rxc8,Qa6,Rc3,Bd4,Rc1+,Kf2,Rc8,a3,Bxa3,Qxa5,Bc5,Bxc5,dxc5,h4,Be6,h5,Bxb3,h6,Be6,Qa1,Kf8,Qg7+,Ke7,Qxh7,c4,Qg7,c3,h7,c2,h8=Q', 'Rxh8,Qxh8,c1=Q', 'https://lichess.org/training/wMza3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WMZe1', 'Rapid', 'jim12345', 1800, 'Julbak', 1870, 'e4,c5,Bc4,e6,Nf3,Nc6,c3,a6,d4,cxd4,cxd4,d5,exd5,exd5,Qe2+,Be7,Bb3,Nf6,Nc3,O-O,O-O,Bg4,Be3,Re8,h3,Bh5,Rad1,b5,a3,Na5,Ba2,Nc4,Rd3,Ne4,a4,Rb8,axb5,axb5,Nd1,Bxf3,Qxf3,Qa5,Bxc4,bxc4,Rc3,Nxc3,bxc3,Bf6,Qg3,Rb1,Qg4,Ra8,h4,Qd8,h5,Raa1,h6,g6,g3,Be7,Kg2,f5,Qf3,Qd7,Bf4,Qe6,Be5,Bf8,Rh1,g5,Qh5,Be7', 'Qe8+,Bf8,Qxe6#', 'https://lichess.org/training/WMZe1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wMzIA', 'Rapid', 'chemaccj', 1661, 'Qrtebdda', 1643, 'e4,Nf6,e5,Nd5,d4,d6,Bc4,Nb6,Bb3,dxe5,Qf3,e6,dxe5,c5,a3,g6,Nh3,Bg7,Bg5,Qc7,Bf6,Bxf6,exf6,Bd7,O-O,Bc6,Qe3,c4,Ba2,N8d7,Nc3,Nxf6,Qg5,Nfd5,Nxd5,Bxd5,Qh6,O-O-O,Qe3,Qc6,Nf4,Kb8,b4,cxb3,Bxb3,Bxb3,cxb3,Nd5,Nxd5,Rxd5,Rfd1,Rhd8,Rdc1,Qd7,g3,Rd3,Qh6,Rxb3,Qxh7,Qe7,a4,Qf6,Qh6,Rb2,Qe3,Rdd2,Rf1,Re2,Qc5,Rbc2,Qf8+,Kc7,Rad1,Rcd2,Qc5+,Kb8', 'Qf8+,Qd8,Qxd8+,Rxd8,Rxd8+', 'https://lichess.org/training/wMzIA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wmzX5', 'Blitz', 'ufjay', 1834, 'LookAtMyEgo', 1768, 'Nf3,c5,e3,g6,d4,cxd4,exd4,Bg7,Bf4,Nf6,Be2,Nc6,c3,a6,Nbd2,O-O,Ne5,d6,Ng4,Qb6,Nxf6+,Bxf6,Bh6,Re8,Qc2,Bf5,Bd3,Bd7,Ne4,Bh8,h4,Rac8,Qe2,e5,d5,Nd4,cxd4,exd4,O-O,f5,f3,fxe4,fxe4,Bb5,Qf3,Be5,Qf7+,Kh8,Bxb5,d3+,Kh1,Qxb5,Rf6,Bxf6', 'Qxf6+,Kg8,Qg7#', 'https://lichess.org/training/wmzX5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wn0tj', 'Rapid', 'vasiliy_sumy', 1824, 'jtfisico', 1807, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nc6,Nxc3,Nf6,Nf3,d6,Ng5,Ne5,Qb3,Nxc4,Qxc4,Qe7,O-O,h6,Nf3,Bg4,Nd4,Qd7,f3,Be6,Nxe6,fxe6,Be3,Be7,Nb5,c6,Nd4,d5,exd5,Nxd5,Rae1,O-O,Bxh6,gxh6,Nxe6,Rf6', 'Qg4+,Kf7,Qg7+', 'https://lichess.org/training/wn0tj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wn1Ib', 'Rapid', 'Depejota', 1968, 'MariscaL7', 1851, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,c3,b5,Bc2,O-O,d4,exd4,cxd4,d6,e5,dxe5,dxe5,Qxd1,Rxd1,Ng4,Bf4,Bc5,Bg3,Be6,Nc3,Rad8,Ne4,Be7,h3,Nh6,Neg5,Rxd1+,Rxd1,Rd8,Rxd8+,Nxd8,Bxh7+,Kh8,Nxe6,Nxe6,Bc2,c5,b3,g6,Kf1,Nf5,Bxf5,gxf5,Ke2,c4,Bh4,cxb3,axb3,Bc5,Bf6+,Kg8,Nd2,Bb4,g3,Nd4+,Kd3,Bxd2,Kxd4,Be1,Ke3,a5,Ke2,Bc3,f3,b4,Ke3,Kf8,Kf4,Ke8,Kxf5', 'a4,bxa4,b3,Ke4,b2,Kd3,b1=Q+', 'https://lichess.org/training/wn1Ib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wn1uR', 'Blitz', 'fremman', 1886, 'Dylarama', 1700, 'd4,f5,e4,fxe4,Nc3,Nf6,Bg5,e6,Bxf6,gxf6,Nxe4,b6,Nf3,Bb7,Bd3,Nc6,Nfd2,Nb4,Qh5+,Ke7,Qh4,Bg7,Qg3,Nxd3+,cxd3,Qf8,Qxc7,Qc8,Qg3,Rg8,O-O,Bh6,Qh4,Bxd2', 'Qxf6+,Ke8,Nd6#', 'https://lichess.org/training/Wn1uR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wn35T', 'Classical', 'gsdfghfvko', 1618, 'pradhan', 1623, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,Nc3,Nf6,d3,O-O,Bg5,h6,Bxf6,Qxf6,Nd5,Qd6,O-O,Nd4,Nxd4,exd4,f4,c6,e5,Qxd5', 'Bb3,Qe6,Bxe6', 'https://lichess.org/training/wn35T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WN3ys', 'Blitz', 'Karrrrre', 1798, 'AK362', 1785, 'e4,b6,d4,e6,Nc3,Bb7,Bd3,Bb4,Ne2,Nf6,O-O,d5,e5,Ne4,Nxe4,dxe4,Bc4,O-O,c3,Be7,Nf4,Bd5,Qe2,a6,Bxd5,exd5,f3,exf3,Rxf3,Nd7,Nh5,g6,Rg3,Kh8,Bh6,Rg8,Qg4,gxh5', 'Bg7+,Rxg7,Qxg7#', 'https://lichess.org/training/WN3ys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WN44v', 'Rapid', 'Pvlsation89', 1725, 'railroadman', 1647, 'd4,e6,Nf3,Nf6,Bf4,d5,e3,Bd6,Bg3,Nc6,Bd3,Bxg3,hxg3,Qd6,c3,e5,Na3,e4,Nb5,Qe7,Ng5,exd3,Qxd3,Ne4,Nxh7,Bf5', 'Nf6+,Qxf6,Rxh8+,Kd7,Rxa8', 'https://lichess.org/training/WN44v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wn4b8', 'Blitz', 'mpunkt', 1728, 'Burkin_Oleg', 1881, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bd6,d4,Nf6,O-O,O-O,Re1,a6,Bg5,h6,Bh4,b5,Bb3,Qe7,c4,Na5,cxb5,axb5,Nc3,c6,Bc2,Bb4,Qd3,d6,a3,Bxc3,Qxc3,Nc4,dxe5,dxe5,a4,Bg4,axb5,cxb5,Rxa8,Rxa8,Rb1,Bxf3,gxf3,Qc5,Bd3,Ra3,Qc2,g5,Bg3,Nd7,Rc1,Ndb6,h4,f6,hxg5,hxg5,Kg2,Kf7,Rh1,Ke6,Rh6,Na4,Qe2,Nc3,Qf1,Nd2,Qh1,Na4,Qh5,Rxd3,Qe8+,Qe7,Qc6+,Rd6,Qxb5,Qa7,Qe8+,Qe7,Qb5,Nb6,Qb4,Nbc4,Qb5,Rb6', 'Qd5#', 'https://lichess.org/training/wn4b8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wn57y', 'Classical', 'Manojee', 1842, 'desperolao', 1819, 'd4,d5,b3,Nf6,Bb2,e6,Nd2,Bb4,Nf3,O-O,e3,a6,Bd3,c6,O-O,Nbd7,a3,Ba5,b4,Bb6,a4,a5,bxa5,Bxa5,Ba3,Re8,Re1,b6,e4,Ba6,Bxa6,Rxa6,exd5,Nxd5,c4,Nc3,Qc2,c5,dxc5,Nxc5,Bxc5,bxc5,Ne5,Rd6,Nb3,Qc7,Nxa5,Qxa5,Ra3,Nd5,Rd1,Nf6,g3,Rxd1+,Qxd1,Rd8,Qf3', 'Qe1+,Kg2,Qxe5', 'https://lichess.org/training/wn57y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WN7jg', 'Rapid', 'flappylabia', 1708, 'mahdi12121', 1713, 'e4,e6,d4,f5,exf5,exf5,Bc4,d5,Bd3,Nf6,Nf3,Be7,Ne5,O-O,O-O,Ne4,f3,Nf6,Qe1,Bd6,Qg3,Nc6,Bh6,Qe7,Re1,Nxd4,Nc6,Nxc6', 'Rxe7,Bxg3,Rxg7+', 'https://lichess.org/training/WN7jg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wn85W', 'Rapid', 'harlan_connor', 1648, 'ghiniho', 1643, 'c4,Nf6,Nc3,e6,g3,Bb4,Bg2,Bxc3,bxc3,d5,d4,c6,Bg5,Nbd7,e4,Qa5,Ne2,O-O,Bxf6,Nxf6,e5,Ne4,Bxe4,dxe4,O-O,f5,Qb3,Qc7,Nf4,Bd7,f3,Rf7,fxe4,fxe4,Rae1,Raf8,Rxe4,Rf5,Rb1,Bc8,c5,Qd7,c4,g5,Nh5,Rf3,Nf6+', 'R8xf6,exf6,Rxb3', 'https://lichess.org/training/Wn85W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wnapA', 'Rapid', 'jingsantelices', 1869, 'en123_yaperdi', 1881, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be3,Bb4,Qd2,Nf6,f3,d5,Bd3,dxe4,fxe4,Bxc3,Qxc3,Qxc3+,bxc3,Nbd7,Nf3,Ng4,Bd2,Nge5,Nxe5,Nxe5,O-O,O-O,Rf4,Rd8,Rd1,Nxd3,Be3,Bd7,cxd3,Bc6,Bb6,Rd7,e5,Rc8,c4,Ba4,Rd2,Rc6,Be3,b5,c5,Rd5,d4,a5,Rdf2,Rc7,g4,b4,g5,Be8,h4,Rd8,h5,g6,hxg6,hxg6,d5,exd5,Rf6,d4,Bf4,Rc6,e6,Rxe6,Rxe6,fxe6,Bd6,Bc6,Rf6,Kg7,Rxe6,a4,Re7+,Kh8,Be5+,Kg8,Rg7+,Kf8,Rxg6,d3,Bf4,Bb5,Bd2,b3,axb3,axb3,Rb6,Bc4,c6,Rc8,g6,Bd5,Bh6+,Kg8,Kf2,Be4,Ke3,Bxg6,Rxb3,Rxc6,Rb8+,Kh7,Bf4,Re6+,Kd2,Re2+,Kd1,Bh5,Kc1,Rc2+,Kb1,Rf2,Rb7+,Kg6,Rd7,Kf6,Be3,Re2,Rxd3', 'Bg6,Kc1,Bxd3', 'https://lichess.org/training/wnapA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wNBoO', 'Rapid', 'castillojcr', 1786, 'logancdv', 1990, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,Bg7,Be2,Nc6,Be3,h6,Qd2,Ng4,Bf4,e5,d5,Ne7,Be3,Nxe3,Qxe3,Bg4,h3,Bxf3,Bxf3,a6,O-O-O,b5,Kb1,Qb8,Be2,O-O,g4,Nc8,h4,Nb6,b3,Nd7,f4,exf4,Qxf4,Bxc3,Qxh6,Bg7,Qf4,Ne5,h5,Qd8,g5,gxh5,Rxh5,Ng6,Qh2,Qe7,Rh1,Qe5', 'Rh8+,Bxh8,Qh7#', 'https://lichess.org/training/wNBoO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WnC5w', 'Blitz', 'buyaka', 1521, 'Armonia', 1546, 'e4,e6,d4,d5,e5,c5,Nf3,cxd4,Qxd4,Nc6,Bb5,Ne7,Bxc6+,Nxc6,Qf4,Qa5+,Nc3,Nb4,O-O,Nxc2,Rb1,Nb4,a3,Nc6,Bd2,Qc7,Nb5,Qd8,Bb4,Bxb4,axb4,O-O,Nd6,Ne7,Rbc1,Ng6,Qe3,Rb8,Rc3,Bd7,Rfc1,Bc6,b5,Bd7,Qxa7,f6,Nxb7,Qe8,Nc5,Bxb5,Nb7,fxe5,Rc7,Rxf3,gxf3,Nf4,Nd6', 'Qg6+,Kh1,Qg2#', 'https://lichess.org/training/WnC5w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WNcGg', 'Classical', 'Alex_Jikai', 1738, 'AitMeddourM', 1698, 'e4,c5,Bc4,Nf6,Nc3,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Qe2+,Be7,Ne5,Nc6,Nxd7,Qxd7,d3,O-O,O-O,Qd6,Bxc6,bxc6,Bg5,Rfe8,Rfe1,Bd8', 'Qxe8+,Nxe8,Rxe8+,Qf8,Rxf8+', 'https://lichess.org/training/WNcGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wNgB4', 'Rapid', 'Tewirlan', 1872, 'TheRealKasparov', 1869, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,h6,h3,d6,Be2,c5,c3,Qa5,O-O,O-O,Nbd2,cxd4,cxd4,Kh7,Qb3,Nh5,Bh2,f5,Nc4,Qd8,Rac1,Nc6,Qc2,Re8,a3,e5,dxe5,dxe5,Rfd1,Qe7,Nd6,Rd8,Nb5,Rxd1+,Rxd1,Be6,Bc4,a6,Bxe6,axb5,Bxf5,Qe8,Bd7,Qe7,Bxc6,Rc8,Qe4,Rxc6,Bxe5,Rc4,Qd5,Rc5,Qd6,Rxe5,Nxe5,Qxd6,Rxd6,Bxe5,Rd7+,Ng7,Rxb7,Bxb2,Rxb5,Bxa3,Ra5,Bb4,Rb5,Bc3,Rb7,h5,Kf1,Kh6,Ke2,Ne6,Re7,Ng5,h4,Nh7,Kd3,Bf6,Re4,Bd8,g3,Nf6,Rd4,Ba5,Ke2,Ng4,f3,Nf6,Rd6,Ne8,Re6,Ng7,Ra6,Bc7,f4,Nf5,Kf3,Bd8,e4,Nd4+,Ke3,Nc2+,Kd2,Nb4,Rd6,Ba5,Ke3,Nc2+,Ke2,Bb4,Rb6,Bc5,Ra6,Nb4,Ra5,Bg1,e5,Nc6,Rd5,Kg7,Rd7+,Kf8,e6,Ne7,Rd8+,Kg7,Re8,Kf6,Rf8+,Kxe6,Kf3,Bc5,Ra8,Nd5,Ra6+,Kf7', 'Ra5,Be7,Rxd5', 'https://lichess.org/training/wNgB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WNGNl', 'Rapid', 'albertszab', 1633, 'Guido-Cesare', 1637, 'e4,e5,Qh5,d6,Bc4,Qe7,d3,Nf6,Qf3,Bg4,Qg3,Be6,Bxe6,Qxe6,Bg5,Be7,f3,O-O,Bh6', 'Nh5', 'https://lichess.org/training/WNGNl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WNGQn', 'Rapid', 'Dextroyer099', 1707, 'toamet', 1662, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,Bd3,Bxd3,Qxd3,e6,Bg5,Be7,O-O-O,O-O,Rhe1,Nd5,Bxe7,Qxe7,Nf5,Qg5+,Ne3,Qf6,Nxd5,cxd5,Qb5,b6,Kb1,Rc8,Qd3,Nc6,Ne5,Qxf2,Nxc6,Rxc6,Rf1,Qxg2,Rg1,Qf2,Rgf1,Qh4,Qb5,Rac8,Qa6,Qxh2,Rc1,Rxc2', 'Qxc8+,Rxc8,Rxc8#', 'https://lichess.org/training/WNGQn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wnJvP', 'Rapid', 'drogoryda', 1785, 'Ahmet_kaya6', 1795, 'e4,c5,Nf3,d6,c4,Bg4,d4,cxd4,Qxd4,Nc6,Qd3,f5,h3,fxe4,Qxe4,Nf6,Qd3,Bh5,Nh4,e5,Nc3,Nd7,Nf5,Nb4,Nxd6+', 'Bxd6,Qxd6,Nc2+', 'https://lichess.org/training/wnJvP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WNKuo', 'Rapid', 'denci', 1797, 'Britvich', 1697, 'e4,e6,d4,d5,e5,c5,c3,Nc6,f4,Bd7,Nf3,cxd4,cxd4,Bb4+,Nc3,Rc8,a3,Qa5,Bd2,Nge7,axb4,Qxb4,Be2,Nxd4,O-O,Nxe2+,Nxe2,Qxb2,Rb1,Qa3,Rxb7,Qa6,Rb1,Bb5,Nfd4,Bd3,Ra1,Bxe2,Nxe2,Qb6+,Kh1,O-O,Rf3,Nf5,Rb3,Qd8,Rxa7,Qh4,Rbb7,Nh6,Bb4', 'Ng4,h3,Nf2+,Kh2,Nxd1', 'https://lichess.org/training/WNKuo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wNlgo', 'Rapid', 'Rannchhod', 1798, 'Bojan_Popovic', 1743, 'd4,c6,Bf4,d6,Nc3,Qb6,Rb1,h6,e4,Nf6,Be2,e6,Nf3,Be7,O-O,O-O,Re1,Rd8,b4,e5,Na4,Qc7,dxe5,dxe5,Bxe5,Bd6,Qd4,Ng4,Bxd6,Rxd6,Qc3,Rg6,e5,Bf5,Nh4,Rg5,Nxf5,Nxe5,Nxh6+,gxh6,f4,Ng4,Bxg4,Rxg4,Re8+,Kh7,Qh8+,Kg6,Rg8+,Kh5,Rb3,Qxf4,Qe5+,Qxe5', 'Rh3+,Rh4,g4#', 'https://lichess.org/training/wNlgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wNmP4', 'Blitz', 'Cris7', 1592, 'TimeGrownOld', 1650, 'e4,e5,Nf3,f5,exf5,Bc5,Nxe5,Bxf2+,Ke2,Qh4,Nf3,Qe4+,Kxf2,d5,Bb5+,c6,Re1,Bxf5,Rxe4+,Bxe4,Bd3,Nf6,Ng5,O-O,Nxe4,Nxe4+,Ke3,Re8,Bxe4,Rxe4+,Kd3,Na6,a3', 'Nc5+,Kc3,Rc4#', 'https://lichess.org/training/wNmP4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wnn8E', 'Rapid', 'Andrew_Ayman', 1672, 'charf7', 1698, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,c3,d6,h3,Na5,Nbd2,Nxc4,Nxc4,h6,O-O,Be6,Ne3,Qd7,a4,a5,Bd2,c6,Ne1,O-O,N1c2,d5,Na3,Rad8,exd5,cxd5,Nb5,Qc6,Qe2,Bc5,Rac1,Qb6,Rfd1,d4,Nc4,Bxc4,dxc4,d3,Qe1,e4,Be3,Bxe3,Qxe3,Qxe3,fxe3,Nh5,Kh2,f5,Rf1,f4,Rxf4,Nxf4,exf4,Rxf4,Nd4,d2,Rd1,e3,Kg3,Rfxd4,cxd4,Rxd4,Kf3,Rd3,Ke2,Rb3,g4,Rxb2,Kxe3,Kf7,Rxd2,Rxd2,Kxd2,Ke6,Ke3,Ke5,Kd3,b6,Ke3,g5,Kd3,Kf4,Kd4,Kg3,Kd5,Kxh3,Kc6,Kg3', 'Kxb6,Kxg4,c5,Kf4,c6,g4,c7', 'https://lichess.org/training/wnn8E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wnna4', 'Classical', 'b1ackdiamond', 1972, 'Harry-503', 1928, 'e4,g6,Nf3,Bg7,Bc4,e6,d4,f6,Be3,Nh6,Qd2,Nf7,Nc3,O-O,g4,c6,h4,d5,Bd3,Nd7,g5,fxg5,Nxg5,Qe7,e5,b5,O-O-O,Nb6,Nxh7,Kxh7,Rdg1,Nh8,h5,Nc4,Qe2,Nxe3,hxg6+,Kg8,Rxh8+,Bxh8,Qxe3,Bg7,Qh3,Rxf2,Ne2,Bd7,Ng3,Kf8,Qh7,Qg5+,Kb1,Qh6,Nh5,Qxh7,gxh7,Bh8', 'Rg8+,Ke7,Rxa8', 'https://lichess.org/training/wnna4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WnnBY', 'Rapid', 'MarvelMLL', 1904, 'basewest6', 1869, 'e4,d5,exd5,Qxd5,d4,c6,Nc3,Qa5,Nf3,Nf6,Bd2,Bg4,Be2,Bxf3,Bxf3,e6,Ne4,Qd8,Bg5,Qa5+,c3,Nxe4,Bxe4,Qxg5,Qb3,b6,Qc4,b5,Bxc6+,Nxc6,Qxc6+,Ke7,Qxa8,Kf6,O-O,Qh4,f4,g6,Qe4,Bd6,Rf3,Kg7,Raf1,h5,Rg3,a5,Qf3,b4,Rg5,Be7,Rxa5,Qf6,Ra7,h4,Qb7,Bd6,Qe4,h3,g3,Rb8,Rb7,Rc8,cxb4,Rc4,Rd1,Qd8,a3,Qc8,Rd2,Rc1+,Kf2,Qc4,Qe2,Qd5,Qf3', 'Rf1+,Kxf1,Qxf3+', 'https://lichess.org/training/WnnBY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wNOmW', 'Rapid', 'farvehar1985', 1737, 'JaviG67', 1802, 'e4,c5,Bc4,Nc6,Nf3,a6,Ng5,e6,a3,Qxg5,d3,Qxg2,Rf1,Nd4,Nd2,Nf6,c3,Nc6,Nf3,b5,Rg1,Qh3,Bb3,Be7,Rg3,Qh5,Be3,Ne5,Qe2,Nxf3+,Rxf3,Qxh2,O-O-O,Qh5,Rg1,Bb7,Rg5,Qh1+,Bd1,d5,e5,d4,cxd4,Bxf3,Qxf3,Qxf3,Bxf3,cxd4,Bxa8,dxe3,exf6,Bxf6,Rc5,O-O,fxe3,Rxa8,d4,g5,Kd2,g4,Ke2,Kg7,Kf2,Kg6,Kg3,h5,b3,Be7,b4,Bxc5,bxc5,Rc8,Kf4,Kf6,e4,a5,e5+,Kg6,Ke4,Kg5,d5,g3,c6,g2,d6,Rxc6,d7,Rc4+,Kd3,g1=Q,d8=Q+,Kf5', 'Qf6+,Kg4,Qg7+', 'https://lichess.org/training/wNOmW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wnp76', 'Rapid', 'gucelli', 1925, 'hernanmador70', 1691, 'd4,g6,c4,Bg7,Nc3,e6,e4,Ne7,Nf3,O-O,Be2,d5,exd5,exd5,c5,Bg4,O-O,Nbc6,Be3,Nf5,h3,Bxf3,Bxf3,Nxe3,fxe3,Qh4,Nxd5,Rad8,Qe1,Qg5,Nc3,Rfe8,Bxc6,bxc6,Rf3,Bxd4,Rd1,Bxe3+', 'Rxe3,Rxe3,Rxd8+', 'https://lichess.org/training/Wnp76');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WNQaG', 'Rapid', 'Chess_Burger2020', 2238, 'IvanAsen', 2183, 'Nf3,d5,c4,c6,b3,Nf6,Bb2,g6,g3,Bg7,Bg2,O-O,O-O,Bf5,d3,Re8,Nbd2,Nbd7,Nd4,Be6,Nxe6,fxe6,e3,e5,Rc1,e6,Qc2,Rc8,Qb1,Qe7,Qa1,Nc5,Qb1,Ng4,h3,Nh6,Ba3,b6,d4,exd4,exd4,Bxd4,Rfe1,Qf7,Nf3,Bg7,Ne5,Qf5,Bxc5,bxc5,Nd7,Bd4,Qxf5,Nxf5,cxd5,cxd5,Rcd1,Rc7,Ne5,Bxe5,Rxe5,Kf7,Bf1,Nd4,Kg2,Kf6,f4,Ree7,g4,Nc6,g5+,Kf7,Ree1,d4,Bc4,Nd8,Re2,Rc6,Rde1,Rd6,Rd2,Nc6,Kf3,a5,a4,Nb4,Re5,Rc7,h4,Nc6,Re1,Nb4,Kg4,Nd5,h5,Rcd7,Bd3,Ne3+,Kh4,Nf5+,Kg4,Ne3+,Kh4,Nf5+,Kh3,gxh5,Re5,Rd5,Rde2,Rxe5,Rxe5,Rd5', 'Rxd5,exd5,Bxf5', 'https://lichess.org/training/WNQaG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WNRQM', 'Rapid', 'Babola73', 2063, 'Iraq3000', 2071, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,e5,Ndb5,a6,Na3,Be6,Bc4,Be7,Nd5,b5,Bb6,Qc8,Nc7+,Kf8,Bxe6,fxe6,Nxa8,Qxa8,c3,Nxe4,Qf3+,Nf6,O-O-O,d5,Qh3,Kf7,Rhe1,Bxa3,bxa3,Rc8,Kb2,d4,cxd4,Qb7,Bc5,Na5,Rxe5,Nc4+,Ka1,Nxe5,Re1,Neg4,f3,Nh6,Rxe6,Qd5,Re7+,Kg6,Qg3+,Qg5', 'Rxg7+,Kxg7,Qxg5+', 'https://lichess.org/training/WNRQM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wnt5A', 'Rapid', 'oguzhanozaslan', 1692, 'IcarusAlighieri', 1653, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,d6,Nbd2,g6,d4,Ng4,d5,Na5,h3,Nf6,Nc4,Nxc4,Bxc4,Nxe4,Bb5+,Bd7,Bd3,Nf6,c4,Bg7,Ng5,O-O,Qf3,a6,O-O,c6,Re1,cxd5,cxd5,Qa5,Rd1,e4,Bxe4,Nxe4,Nxe4,Qb6,Be3,Qxb2,Rab1,Qxa2,Rxb7,Bb5,Nxd6', 'Be2,Qg3,Bxd1', 'https://lichess.org/training/wnt5A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wNuEN', 'Rapid', 'prados', 2151, 'fabioloso', 2131, 'e4,Nf6,e5,Nd5,c3,c5,Nf3,d6,Be2,a6,O-O,Bg4,Qb3,Nb6,h3,Bh5,d4,cxd4,cxd4,Nc6,Re1,d5,Bg5,h6,Be3,e6,Nc3,Be7,Qd1,Rc8,a3,Na5,Rb1,Nac4,Bd2,Nxd2,Qxd2,Bg6,Ra1,Nc4,Bxc4,Rxc4,Qe3,Qb6,Red1,Qxb2,Nxd5,exd5,e6,Rc3,Qe5,Qb6,exf7+,Bxf7,Qxg7,Bf6', 'Re1+,Kd8,Qxf7', 'https://lichess.org/training/wNuEN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WNVk2', 'Rapid', 'shivraj18', 1708, 'iliu_xa', 1726, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,g3,e5,Bg2,c6,Nf3,Nf6,Nxe5,Bd6,Nf3,Be6,O-O,Qd7,Re1,Bh3,Bh1,O-O,b3,h5,Bb2,h4,Nxh4,Nh5,Ne4,Be7,Nf3,Qg4,Ne5,Qf5,Rc1,Nd7,Nc4,Rae8,Ned6,Bxd6,Nxd6,Qg6,Nxe8,Rxe8,Qc2,Bf5,d3,Nf4,e4,Nh3+,Kf1,Be6,d4,Nf6,d5,cxd5,exd5,Bf5,Rxe8+,Nxe8,Qd2,Bd3+,Kg2,Ng5,Rc8', 'Qe4+,f3,Qxf3+,Kg1,Nh3#', 'https://lichess.org/training/WNVk2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WNW7W', 'Rapid', 'blvdwoude', 2023, 'Majekk', 2085, 'd4,b6,c4,Bb7,Nc3,e6,e4,Bb4,f3,f5,exf5,exf5,Bf4,Nc6,d5,Nce7,Bd3,Nf6,Ne2,O-O,O-O,c6,d6,Ng6,Bxf5,Nxf4,Nxf4,Ne8,Qd3,g6,Bxg6,Rxf4,Bxh7+,Kh8,Qg6,Nxd6,Ne4,Qe7,Qg3,Raf8,Bg6,c5,Nxd6,Qxd6,Qh3+,Kg7,Qh7+,Kf6,Qh6,Ke7,Qg7+,Kd8,Rad1,Qe7,Qh6,R4f6,Qh5,Bc6,a3,Ba5,b4,cxb4,Rfe1,Qg7,Qe5,Kc8,Be4,Bxe4,Qxe4,Re6', 'Qa8+,Kc7,Qxa7+', 'https://lichess.org/training/WNW7W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wNxik', 'Rapid', 'prorabspb1966', 1858, 'milfriedz', 1696, 'e4,e6,d4,d5,e5,c5,c3,Qb6,a3,Nc6,Nf3,Nge7,g4,Ng6,Be2,Bd7,O-O,Be7,h3,f6,exf6,Bxf6,dxc5,Qxc5,Nbd2,O-O,Nb3,Qb6,Be3,Qc7,Nc5,b6,Nxd7,Qxd7,Bb5,Qc7,Bxc6,Qxc6,Nd4,Qd6,Nf3,e5,Qe2,e4,Nd4,Ne5,Nf5,Nf3+', 'Qxf3,exf3,Nxd6', 'https://lichess.org/training/wNxik');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wNxjo', 'Bullet', 'mirolim', 1599, 'black_horse_01', 1609, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Bb5+,Bd7,Qd3,Nf6,Bg5,Be7,O-O,O-O,Rad1,a6,Bxd7,Qxd7,a4,h6,Bh4,Ne8,Bxe7,Qxe7,Rfe1,Nd6,Nxd5,Qb7,Nc3,Rfd8,Qe3,Nf5,Qf4,Rxd1,Rxd1,Qxb2,Qe4,Rf8,Qd3,Qb7,Ne4,Ne7,Nc5,Qc6,Nxa6,Qxa4,Nc5,Qc6,Ne4,Nf5,Nc3,Nh4,Ne4,f5,Qd6,Qxe4,f3,Qa8,Qxe6+,Kh8,Rd4,Qa7,c3,Qa1+,Kf2,Qb2+,Kg3,Qxg2+,Kxh4,g5+,Kh5,Qxh2+,Kg6,Rg8+', 'Qxg8+,Kxg8,Rd8#', 'https://lichess.org/training/wNxjo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wnxo4', 'Blitz', 'Malloc', 1911, 'Alattari', 1873, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Bg4,O-O,e6,d4,Bd6,Qd3,c6,Bd2,Qc7,Ne4,Nxe4,Qxe4,Bxf3,Qxf3,Bxh2+,Kh1,Bd6,Bg5,Be7,Bf4,Bd6,Bxd6,Qxd6,Qg4,O-O,Rae1,Nd7,Re3,Nf6,Qg5,Qxd4,Rg3,g6,Bd3,Ne4,Bxe4,Qxe4,Qh6,Qe5,Kh2,Qg7,Qh4,Rfd8,Rh3,h5,g4,hxg4,Qxg4,Rd5,Kg2,Qe5,Rfh1,Rad8,c4,Rd4,Rh8+,Qxh8,Rxh8+,Kxh8,Qg5,Kg7,b3,R8d7,Qe5+,Kg8,Qb8+,Kg7,Qe5+,Kh7,Qh2+,Kg8,Qb8+,Rd8,Qxb7,Rd2,Qxa7,Rb2,Qc7,Rdd2,Qg3,Rxf2+,Qxf2,Rxf2+,Kxf2,f5', 'a4,Kf7,a5,Ke7,a6', 'https://lichess.org/training/Wnxo4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WnzdN', 'Blitz', 'Chess_Wizard_2019', 2017, 'Dayber1', 1973, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Nxc6,bxc6,Nc3,Bc5,Qe2,Ne7,Be3,Bb4,Qd3,O-O,Be2,d6,O-O,Ng6,f4,Ba5,Nd1,Bb6,Kh1,a5,Nf2,Ba6,Qd2,Bxe2,Qxe2,Qxb2,f5,Ne5,f6,g6,Bxb6,Qxb6,Nd3,Qd4,Qd2,Kh8,Rf4,Qxa1+,Ne1,Qxa2,h3,Qe6,Rf1,a4,Qh6,Rg8,Rf4,Nd7', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/WnzdN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WnZs4', 'Rapid', 'Roland373', 2102, 'DEVIL14', 2112, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,O-O,d6,h3,Be6,Bb5,a6,Ba4,b5,Bb3,Nd4,d3,Nxb3,axb3,h6,Be3,Bxe3,fxe3,c5,Qe2,O-O,Nh2,Qd7,Rf3,Nh5,Raf1,Nf6,Rxf6,gxf6,Rxf6,Kg7,Qf2,Rh8,Ng4,Rag8,Nd5,h5,Nh2,Kf8,Kh1,Ke8', 'Rxe6+,Qxe6,Nc7+,Kd7,Nxe6', 'https://lichess.org/training/WnZs4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wnzYx', 'Rapid', 'mrfinesse47', 2037, 'NagySolyom', 2234, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Be2,e5,O-O,Nc6,d5,Ne7,Ne1,Ne8,Be3,f5,f3,f4,Bf2,b6,b4,g5,c5,Ng6,Nd3,h5,cxd6,Nxd6,Nb2,Kh7,Nc4,Nxc4,Bxc4,g4,Rc1,Qg5,Kh1,g3,Bg1,Bh3,Rc2,Nh4,gxh3', 'g2+,Rxg2,Qxg2#', 'https://lichess.org/training/wnzYx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WO1ln', 'Classical', 'LEITMOTIV', 1697, 'jpmarti91', 1651, 'e4,e5,c3,Nf6,d3,d5,Qc2,Nc6,h3,h6,Nf3,Bc5,d4,dxe4,Nxe5,Nxe5,dxe5,Nd5,Qxe4,Be6,b4,Nf6,exf6,gxf6,bxc5,O-O,Bd3,Re8,Qh7+,Kf8,Bxh6+,Ke7,Bg6,Rh8,Qg7,Qd7,Bg5,fxg5,Be4,Rad8,O-O,Rdg8,Qe5,f6,Qg3,f5,Bxb7,g4,h4,c6,Ba6,Rf8,Na3,f4,Qh2,Kd8,Rad1,Bd5,c4,Qe7,h5,Qe2,Qh4+,Kd7,Qg5,g3,Rde1', 'gxf2+,Rxf2,Qxe1+,Rf1,Qe3+', 'https://lichess.org/training/WO1ln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wo23b', 'Rapid', 'Joseleo', 2240, 'Reproof_02', 2163, 'd4,Nf6,Nf3,e6,Bf4,c5,c3,d5,e3,Nc6,Nbd2,Be7,Bd3,h6,O-O,O-O,Ne5,Nxe5,Bxe5,Nd7,Bg3,f5,Nf3,b6,Ne5,Nxe5,Bxe5,Bd6,Bxd6,Qxd6,f4,Bd7,Kh1,a5,h3,b5,g4,c4,Bc2,Qe7,Qe1,b4,Rg1,Kh8,g5,bxc3,bxc3,Rab8,gxh6,gxh6,Rg6,Rf7,Qg3,Rg7,Rg1,Rbg8', 'Rxh6+,Rh7,Qxg8#', 'https://lichess.org/training/wo23b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wo26v', 'Blitz', 'eme2010', 1843, 'NM dukicz123', 2554, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Nc6,Be3,Nf6,Nc3,e6,h3,Bxf3,Bxf3,Bd6,Qd2,O-O,O-O,Rc8,Bg5,Na5,Be2,Bb4,a3,Bxc3,bxc3,Ne4', 'Bxd8,Nxd2,Bxa5', 'https://lichess.org/training/Wo26v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wo3WV', 'Rapid', 'script1913', 1987, 'wojtek1904mb', 1668, 'd4,Nf6,e3,g6,a3,Bg7,Nf3,O-O,c4,d6,Be2,c5,d5,e6,Nc3,Nbd7,dxe6,fxe6,Qxd6,Qb6,Qxb6,Nxb6,O-O,Bd7,Rd1,Bc6,Ne5,Ba4,Nxa4,Nxa4,Rb1,Ne4,Bf3,Nec3,bxc3,Nxc3,Bb2,Nxd1,Rxd1,Rab8,Ba1,b5,Nd7,Rbd8,Bc6,Rf7,Nf6+', 'Bxf6,Rxd8+,Bxd8', 'https://lichess.org/training/wo3WV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WO4ir', 'Rapid', 'lifedaviken', 1724, 'CerebruS', 1734, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nf3,Bc5,d4,Bb6,Nc3,Bg4,d5,O-O,Be2,Re8,O-O,Qe7,Bg5,h6,Bxf6,Qxf6,h3,Bh5,Re1,Nd7,Rc1,Re7,d6,Qxd6,Nd5,Re6,Nxb6,axb6,Qxd6,Rxd6,a3,Bxf3,Bxf3,Rd2,Bxb7,Rd8,b3,Nc5,Bd5,Nxb3,Rc3,Nd4,Rce3,Kf8,Re7,c6', 'Rxf7+,Kg8,Rd7+', 'https://lichess.org/training/WO4ir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wo4KL', 'Rapid', 'EddyWilde', 1826, 'KeepThePeace', 1869, 'e4,c5,Nc3,d6,g3,g6,Bg2,Nc6,d3,Bg7,Be3,e6,Qd2,Nge7,f4,O-O,Nf3,Rb8,O-O,b5,Ne2,Bxb2,Rab1,Bg7,g4,f5,gxf5,exf5,e5,dxe5,fxe5,Nxe5,Bxc5,Rf7,Bxa7,Rb7,Be3,Nd5,Bg5,Qb6+,Nfd4,Nc6,Rxb5', 'Bxd4+,Kh1,Qxb5', 'https://lichess.org/training/wo4KL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wo6h5', 'Rapid', 'Chess-31', 1980, 'OnceDoce', 2037, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Bd3,d6,Nge2,e5,d5,Nbd7,O-O,c6,h3,cxd5,Nxd5,Nxd5,cxd5,a6,Rb1,b5,f4,exf4,Bxf4,Re8,Bxd6', 'Qb6+,Kh1,Qxd6', 'https://lichess.org/training/Wo6h5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WO9K2', 'Rapid', 'Vatrogasac1970', 2234, 'MW1983', 2209, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,d3,Ne7,h4,d5,Nbd2,g6,O-O,Bg7,Rb1,O-O,b3,a5,a4,Ba6,Re1,Rb8,Ba3,c4,dxc4,Re8,exd5,cxd5,Qe2,Bc3,Qd3,Bxd2,Nxd2,dxc4,Nxc4,Nd5,Qg3,Bxc4,bxc4,Nf6,Rb5,Rc8,h5,Qd2,Rf1,Rxc4,hxg6,hxg6,Bb2,Nd5,Rxd5,Qxd5,Qh3,Qh5,Qd3,Rh4,f3,Rh1+,Kf2,Qh4+,Ke2,Rd8', 'Rxh1,Rxd3,Rxh4', 'https://lichess.org/training/WO9K2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOA6v', 'Rapid', 'Octagon666', 1829, 'kotik-abarmotik', 1943, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,c3,Bd6,O-O,Bg4,h3,Bh5,d4,Nf6,Qd3,O-O,dxe5,Bxf3,exf6', 'Bh2+,Kxh2,Qxd3', 'https://lichess.org/training/wOA6v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WOACx', 'Rapid', 'RajSepta', 1857, 'Luneth21', 1825, 'e4,e5,Nf3,Nc6,c3,d5,exd5,Qxd5,c4,Qd8,d3,Bg4,Be2,Bc5,O-O,Nf6,Bg5,O-O,Nc3,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be7,Bxg4,Nxg4,Bxe7,Qxe7,Qxg4+,Kh7,Qf5+,Kh8,f4,Rg8,fxe5,Rg5,Qf6+,Qxf6,exf6,Rag8,Rf2,Ne5,Ne4,R5g6,h3,Nxd3,Rd2,Nf4,Kh2,Nxg2,Rg1,Nh4,Rxg6,Rxg6,Rd8+,Kh7,Rd7', 'Nf3+,Kh1,Rg1#', 'https://lichess.org/training/WOACx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOAUC', 'Classical', 'JC2theL', 1712, 'lubicz', 1608, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,e6,Nf3,c5,Nxc5,Bxc5,dxc5,Nc6,Bb5', 'Qa5+,Nd2,Qxb5', 'https://lichess.org/training/wOAUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('woaVG', 'Rapid', 'relos1', 1909, 'srj10', 1922, 'b3,c5,Bb2,d6,g3,Nf6,Bg2,Nc6,Nf3,g6,Nc3,Bg7,Ne4,O-O,Nxf6+,exf6,d3,Re8,Qd2,Qc7,O-O-O,b5,d4,c4,Kb1,cxb3,cxb3,Bb7,Rc1,Qd7,h4,h5,e3,Rac8,Rhe1,Ne7,Rxc8,Rxc8,Rc1,f5,Rxc8+,Qxc8,Ne1,Bxg2,Nxg2,Qc6,Ne1,Qh1,Bc1,Qf1,Nc2,Nd5,Kb2,a6,Qe1,Qd3,Qd2,Qf1,Qe1,Qg2,Qe2,Qe4,Ne1', 'Bxd4+,exd4,Qxe2+', 'https://lichess.org/training/woaVG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('woAw5', 'Rapid', 'thecreator23', 2075, 'shujau', 1997, 'd4,b6,c4,Bb7,Nc3,e6,e4,Bb4,Bd3,Nf6,f3,Nh5,Ne2,Bxc3+,bxc3,g6,O-O,d5,e5,dxc4,Qa4+,Nc6,Qxc4,O-O,Bh6,Ng7,Be4,Na5,Qd3,Bxe4,Qxe4,Nc4,Rab1,Qd7,Rb4,b5,Rfb1,c6,a4,a6,axb5,axb5,Nc1,Ra3,Nb3,Rfa8,Nc5,Qc7,Qd3,Nf5,Bc1,Ra2,g4,Ne7,Bh6,Nd5,R4b3,R2a3,Ne4,Rxb3,Rxb3,Qa5,Nf6+,Nxf6,exf6,Qa1+,Rb1,Qa2,Qe4,Nd2,Bxd2,Qxd2,Qxc6,Qe3+,Kg2,Ra2+,Kh3', 'Qh6+,Kg3,Qxh2#', 'https://lichess.org/training/woAw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WodYv', 'Rapid', 'izzmzit', 1665, 'atillakan', 1720, 'e4,d5,e5,Bf5,d4,e6,c3,a6,Nf3,h6,h3,Be7,Bd3,Bxd3,Qxd3,g5,Nh2,h5,Nd2,Nh6,Ndf3,g4,hxg4,Nc6,gxh5,Nf5,Ng4,Qd7,Bg5,O-O-O,Bxe7,Qxe7,Nf6,Qf8,O-O-O,Qh6+,Kb1,Qf4,g3,Qh6,g4,Nfe7,g5,Qf8,Nd2,Na5,f4,Qg7,Nf3,Nf5,Nh4,Nxh4,Rxh4,Nc6,Rdh1,Ne7,a3,Nf5,R4h3,Qf8,g6,fxg6,hxg6,Rxh3,Rxh3,Qg7,Rh1,Rh8,Rg1,Rh4,Qe3,Ne7,Qg3,Nf5,Qg5,Rh6,Ng4,Rxg6,Qh5,Ne3,f5,Nxf5,Rg2,Kb8,Ne3', 'Rxg2,Nxg2,Qxg2', 'https://lichess.org/training/WodYv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('woEXM', 'Blitz', 'zensumaro', 2259, 'edbore52', 1857, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,Qc7,Be3,Nc6,Qd2,Nxd4,Bxd4,Nd7,O-O-O,Nc5,Kb1,b5,Nd5,Qb7,g4,Be6,f4,Bxg4,Be2,Be6,f5,Bxd5,exd5,Qxd5,Rhf1,f6,Bf3,Ne4,Qe3,Rc8,Bxe4,Qc4,Bd3,Qb4,a3,Qa4,c3,g6,fxg6,hxg6,Bxg6+,Kd7,Bf5+,Kd8,Bxc8,Kxc8,Qe6+,Kc7,Bxf6,Rxh2,Bxe7', 'Qc2+,Ka1,Qxb2#', 'https://lichess.org/training/woEXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WofSW', 'Blitz', 'fchossein', 1534, 'Thewaffleman', 1575, 'd4,d5,c4,dxc4,e3,Bf5,Nf3,e6,Nc3,h6,Bxc4,Nf6,O-O,Be7,Bd3,Bxd3,Qxd3,O-O,b3,c5,Bb2,cxd4,Nxd4,Nbd7,Ne4,Ne5,Nxf6+,Bxf6,Qd2,Qb6,Rac1,Rad8,Rfd1,Nc6,Qc3,Ne5,Qe1,Ng4,f4,e5,Nf5,Rxd1,Rxd1,exf4,Bxf6,Nxf6,Ne7+,Kh8,Nd5,Nxd5,Rxd5,fxe3,Re5,e2+,Kh1,Rd8,Rxe2,Qd4,Re8+,Kh7,Rxd8,Qxd8,Qe4+,g6,h3,f5,Qxb7+,Kg8,Qxa7,Qd1+,Kh2,Qd6+,Kh1,Qd1+,Qg1,Qd2,Qa1,f4,a4,Qe2,a5,f3,gxf3,Qxf3+,Kh2,Qf2+,Kh1,Qf3+,Kg1,Qxb3,Kh2,Qc2+,Kg3,Qd3+,Kg2,Qe2+,Kg3,Qe3+,Kg4', 'h5+,Kh4,Qf4#', 'https://lichess.org/training/WofSW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOFvZ', 'Rapid', 'kafee20202020', 1781, 'yogesh909', 1754, 'e4,c5,Bc4,d6,Nc3,Nf6,a3,a6,d3,b5,Ba2,Bb7,Nf3,g6,O-O,Bg7,Nd5,Nxd5,Bxd5,Bxd5,exd5,O-O,c4,bxc4,dxc4,Nd7,Re1,Ne5,Nxe5,Bxe5,Qf3,Rb8,Rb1,Qa5,Qe2,Rb3,Bd2,Qc7,Be3,Rfb8,Bc1,Qb6,f4,Bf6,g4,Bxb2,Bxb2,Rxb2,Rxb2,Qxb2,Qxe7,Qd4+,Qe3,Qxc4,Qd2,Rb3,Qa5,Qxf4,Qd8+,Kg7,Rf1,Qxg4+,Kh1,Rb2', 'Qf6+,Kh6,Qxb2', 'https://lichess.org/training/wOFvZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOgFF', 'Rapid', 'amineamrou', 1930, 'AymanAlshref7', 1819, 'c4,e5,Nc3,Bc5,e3,a6,Nf3,d6,d4,exd4,exd4,Ba7,Bd3,Bg4,c5,dxc5,dxc5,Bxf3,Qxf3,Nc6,Bc4,Qf6,Qe4+,Nge7', 'Nd5,Qe5,Qxe5,Nxe5,Nxc7+,Kd7,Nxa8', 'https://lichess.org/training/wOgFF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WoGq5', 'Rapid', 'Schmidt2', 1770, 'TbirdV', 1725, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,cxd4,cxd4,Nge7,b4,Nf5,Bb2,Bd7,Nc3,Ncxd4,Nxd4,Nxd4,Nxd5,exd5,Bxd4,Qg6,Be3,Qe4,Qd4,Qxd4,Bxd4,Be6,Bb5+,Bd7,Bxd7+,Kxd7,O-O,b6,Rac1,Be7,Rfd1,Rac8,f3,Ke6,g4,g6,Kf2,h5,gxh5,Rxc1,Rxc1,Rxh5,Rc7,Rxh2+,Kg3,Rh4', 'Rxe7+,Kxe7,Kxh4', 'https://lichess.org/training/WoGq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wogvN', 'Classical', 'deepaks1', 2009, 'ptitbab', 1963, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Bc4,Nf6,O-O,Be7,Be3,O-O,a3,d6,Bb3,e5,Nf3,Bg4,h3,Bh5,Nd5,Nxe4,Bb6,Qd7,Qd3,Nf6,Ng5,Bg6,Nxe7+,Qxe7,Qg3,Nd7,Be3,b5,Rad1,Nc5,Bd5,Rac8,b4,Ne6,c3,Kh8,Bb3,Rfd8,Bb6,Nxg5,Bxd8,Rxd8,Rfe1,f5,f4,Ne4,Qf3,exf4,Qxf4,Qf6,c4,bxc4,Bxc4,a5,b5,Ne5,Bd5,Nc3,Rd2,Nxb5,Bb3,Bf7,Rxe5', 'dxe5,Rxd8+,Qxd8', 'https://lichess.org/training/wogvN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOh1p', 'Rapid', 'Glancing', 2071, 'fleksaton', 1971, 'e4,c5,c3,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Bxc6,Bxc6,Re1,Be7,d4,cxd4,cxd4,exd4,Nxd4,Bd7,Nc3,Nf6,Bf4,O-O,f3,Kh8,Nb3,Bc6,Bxd6,Bxd6,e5,Qb6+,Kh1,Bb4,exf6,gxf6,Qc2,Bd6,Qf5,Be5,Ne4,Bxe4,Qxe4,Bxb2,Rab1,Be5,f4,Bc7,Qf5,Rae8,Nc5,Rxe1+,Rxe1,Qd6,Nd7,Rd8,Nxf6,Kg7,Qg5+,Kh8,Qh6,Qd3,Nh5,Qg6,Qxg6,hxg6,Nf6,Kg7', 'Ne8+,Kf8,Nxc7', 'https://lichess.org/training/wOh1p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOH2a', 'Rapid', 'situmorrow', 1786, 'dksdg', 1823, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,Nc3,Nf6,d3,Be7,Be3,O-O,h3,Bb7,Qd2,Rb8,Bxa7,Ra8,Be3,c5,g4,c6,g5,Nh5,Qe2,g6,h4,Bc8,Nh2,Rb8,O-O-O,Qb6,b3,Qa5,Bd2,Nf4,Bxf4,Qxc3,Kb1,exf4,Ng4,Bxg4,Qxg4,Rb5,Qxf4,Ra8,h5,Rba5,hxg6,fxg6,Rxh7,Kxh7', 'Qf7+,Qg7,Rh1#', 'https://lichess.org/training/wOH2a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wohGi', 'Rapid', 'biscia', 1689, 'LL257', 1600, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,a3,Nge7,Bg5,h6,Bxe7,Bxe7,Bxc6,Bxc6,dxc5,Bxc5,b4,Bb6,O-O,a5,bxa5,Bxa5,Nd4,O-O,Nd2,Bd7,N2f3,Bb6,h3,Ra4,c3,Bc5,Nb3,Bxa3,Nc5,Ra5', 'Nxb7,Qc7,Nxa5', 'https://lichess.org/training/wohGi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOhnW', 'Classical', 'PvzGuy13', 1921, 'Quliyevic', 2034, 'd4,d5,c4,e6,Nc3,c5,cxd5,cxd4,Qxd4,Nf6,Bg5,Be7,Qa4+,Bd7,Qb3,Nxd5,Nxd5,Bxg5,Nc3,b6,Nf3,O-O,g3,Nc6,Rd1,Bf6,Ne4,Be7,Bg2,Bb4+,Nc3,Rc8,O-O,Bxc3,Qxc3,Na5,Qe3,Qe7,b4,Nc4,Qb3,Qe8,Rd4,Bb5,Rfd1,Ba4,Qd3,Nb2,Qe4,Nxd1,Ng5,g6,Qh4,h5,g4,f6,Nxe6,Bc6,Nxf8,Bxg2,Kxg2,Kxf8', 'Qxf6+,Kg8,Rxd1', 'https://lichess.org/training/wOhnW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOiEI', 'Rapid', 'ValentinaYa', 1683, 'AndrUA', 2032, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,d5,d4,exd4,exd4,dxc4,Bxc4,Bg4,Be2,Be7,O-O,O-O,h3,Bh5,Bf4,Bd6,Bxd6,Qxd6,Ne5,Nxe5,dxe5,Qxe5,Re1,Bxe2,Rxe2,Qg5,Ne4,Nxe4,Rxe4,Rad8,Qa4,a6,Rae1,Rd2,Qb4,Qd5', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/wOiEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOIKE', 'Classical', 'jsando', 1646, 'Ergha-10', 1715, 'e4,d5,exd5,c6,Bc4,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Ngf6,d4,e6,Bg5,Be7,O-O,h6,Bh4,O-O,c3,Ne4,Nbd2,Bxh4,Nxe4,dxe4,Nxh4,Qxh4,Re1,Nf6,d5,Ng4,h3,Qxf2+,Kh1,Qg3,Qxg4,Qd3,dxe6,fxe6,Qxe6+,Kh8,Qxe4', 'Rf1+,Rxf1,Qxe4', 'https://lichess.org/training/wOIKE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wojoN', 'Rapid', 'pedrocatena', 1601, 'USTAGM', 1611, 'e4,e6,Nf3,c5,Bc4,Nf6,O-O,d5,exd5,exd5,Bb5+,Bd7,Re1+,Be7,Bxd7+,Nbxd7,Qe2,Ne4,d3,Nd6,Bf4,Nc8,Bg5,f6,Bh4,O-O,a3,Re8,Qd2,Qb6,b3,Nd6,Nc3,d4,Nd5,Qd8,Bg3,Nf5,Nxe7+,Rxe7,c3,Nxg3,fxg3,Rxe1+,Rxe1,dxc3,Qxc3,b6,b4,Rc8,Nh4,cxb4,Qxb4,Nc5,d4,Nd3', 'Qb3+,Kh8,Qxd3', 'https://lichess.org/training/wojoN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOleJ', 'Classical', 'Mhmmd7', 1698, 'condooor43', 1670, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Ne5,Bf4,Bd6,Bxe5,Bxe5,c3,Nf6,f3,O-O,Bd3,c5,Nf5,g6,Ne3,d5,exd5,Nxd5,Nxd5,Qxd5,c4,Qd4,Qd2,Re8,Kd1,Qxb2,Qxb2,Bxb2,Nd2,Bxa1,Ne4,Rd8,Kc2,Bg7,Nxc5,Bf5,Bxf5,gxf5,Nxb7,Rdb8,Nd6,Rb2+,Kd3,Rxg2,Nxf5,Rxa2,Rg1,Ra3+,Ke4,Re8+,Kf4,Kh8,Rxg7,f6,Rf7,Ra4,Nd6,Rd8,Rxf6,Ra6', 'Nf7+,Kg7,Rxa6', 'https://lichess.org/training/wOleJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOlFP', 'Blitz', 'abyssus', 2697, 'FM Buscapina', 2547, 'e4,e6,d4,d5,Nc3,Bb4,Qd3,Ne7,a3,Bxc3+,bxc3,O-O,Nf3,b6,Qe3,Ba6,Bd3,Bxd3,cxd3,Nd7,O-O,Rc8,a4,c5,Ba3,Qc7,h4,h6,g3,Rfe8,Kg2,c4,Bxe7,Rxe7,exd5,Nf6,dxc4,exd5,Ne5,dxc4,Qf3,Qb7,Rfe1,Qxf3+,Nxf3,Rxe1,Rxe1,Nd5,Rc1,a6,Kf1,b5,axb5,axb5,Ke2,Ra8,Kd2,Ra3,Ne5,b4,cxb4,c3+,Kd3,Nxb4+,Kc4,Ra4,Kb3,Na2,Rc2,Rxd4,Kxa2,f6,Nf3,Rd3,Ne1,Rd1,Re2', 'Rd2+,Kb3,Rxe2', 'https://lichess.org/training/wOlFP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOmBy', 'Rapid', 'Jeremiahpellicer', 1858, 'qhruip', 1822, 'c4,d5,cxd5,Qxd5,Nf3,e5,Nc3,Qd6,e4,Nc6,Bb5,Nf6,O-O,Bd7,a4,a6,Bxc6,Bxc6,Qe2,Be7,d3,O-O-O,Ng5,Qxd3,Nxf7,Nxe4,Nxd8,Rxd8,Qg4+,Kb8,Nxe4,Bxe4,Bg5,Bxg5,Qxg5,Qd5,h3,h6,Qxg7', 'Rg8,Qxg8+,Qxg8', 'https://lichess.org/training/wOmBy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WoOJD', 'Blitz', 'UltraBullet3', 1950, 'majid55', 1944, 'd4,d5,Bg5,Nf6,c4,e6,Nc3,Be7,Nf3,O-O,e3,b6,Rc1,Bb7,cxd5,Nxd5,Bxe7,Nxe7,Bd3,Nd7,Bc2,Ng6,h4,Nf6,h5,Ne7,Qd3,Ned5,e4,Nxc3,e5,Ncd5,exf6,Nxf6,g4,Be4,Qe2,Bxc2,Rxc2,Nxg4,Ne5,Nh6,Nc6,Qd7,Rg1,Nf5,Qg4,g6,h6,Rad8,Qg5,Nxd4,Qf6,Nf5,Kf1,Qd3+,Kg2,Qxc2', 'Ne7+,Nxe7,Qg7#', 'https://lichess.org/training/WoOJD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WOoUg', 'Blitz', 'Gausdal', 2181, 'FM kchess20', 2326, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,Ngf3,Nc6,Bb5,Qe7+,Qe2,Qxe2+,Kxe2,a6,Bxc6+,bxc6,Re1,Nf6,Kf1+,Be7,dxc5,Be6,b4,a5,c3,O-O,Nd4,axb4,cxb4,Rfb8,Nxe6,fxe6,Rxe6,Kf7,Rxc6,Rxb4,Nf3,Ne4,Ne5+,Ke8,Re6,Rb7,c6,Rc7,Bf4,Nc5,Nd7', 'Nxe6,Bxc7,Nxc7', 'https://lichess.org/training/WOoUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WOq6W', 'Rapid', 'PaquitoFIMO', 1961, 'moham6265', 1799, 'd4,Nf6,c4,e6,Nc3,d5,e3,Bb4,cxd5,exd5,Bd3,O-O,Ne2,c5,O-O,c4,Bc2,Bd7,e4,dxe4,Nxe4,Bc6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,d5,Rd8,dxc6,Rxd1,cxb7,Rxf1+,Rxf1,Qc6,Rd1,g6,bxa8=Q,Qxa8,Nc3,Qb7,Na4,Kg7,h3,Nd7,b3,c3,Rd3,Nb6,Nxc3,Qe7,Re3,Qa3,Be4,Qc1+,Kh2,Qd2,Rd3,Qxf2,Bf3,Qe1,Ne4,Qb1,Rd2,f5,Nc5,Qc1,Ne6+,Kf6,Re2,Nd7,Nf4,Qc7,g3,Nb6,Re6+,Kf7,Re2,h5,h4,a5,Ne6,Qc1,Ng5+,Kf6', 'Re6+,Kg7,Rxb6', 'https://lichess.org/training/WOq6W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WoQHG', 'Rapid', 'Abdallah_osman', 1721, 'mr_magician', 1705, 'd4,Nf6,Bf4,d5,e3,Bf5,Bd3,Bxd3,Qxd3,e6,c4,c5,Nc3,cxd4,exd4,Bb4,cxd5,Nxd5,Bd2,Qc7,Nge2,Nxc3,Bxc3,Bxc3+,Nxc3,O-O,O-O,Nc6,d5,exd5,Nxd5,Rfd8', 'Nxc7,Rxd3,Nxa8', 'https://lichess.org/training/WoQHG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('woqvU', 'Classical', 'pfccska', 1777, 'acecalamity', 1896, 'Nf3,d5,c4,d4,d3,c5,Bf4,Nc6,g3,Nf6,Bg2,Qb6,Qb3,e6,O-O,Be7,Nbd2,O-O,Ne5,Qxb3,axb3,Nxe5,Bxe5,Nd7,Nf3,Nxe5,Nxe5,Bd6,f4,g5,Rf3,f6,Ng4,h5,Nf2', 'g4,Nxg4,hxg4', 'https://lichess.org/training/woqvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('woqwz', 'Blitz', 'IM Murakami', 2527, 'very_slow', 2511, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,Bd3,Bb7,O-O,d6,Re1,Be7,Qg4,Nf6,Qxg7,Rg8,Qh6,Nc6,Nxc6,Bxc6,Bg5,Rg6,Qh4,h6,Bxf6,Bxf6,Qh3,Bxc3,bxc3,Qg5,a4,bxa4,Re3,Qe5,f4,Qxc3,Rf1,Qd4,Kh1,a3,f5,Rf6,fxe6,a2,exf7+,Kf8,Ree1,Rxf1+,Rxf1,a1=Q,Qxh6+,Qg7', 'Qxd6#', 'https://lichess.org/training/woqwz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('woR83', 'Rapid', 'peyman2020', 1832, 'SkriMex', 1809, 'e4,c5,Bd3,Nc6,c3,e6,Bc2,d5,f3,d4,d3,e5,Ne2,Nf6,Bg5,Be7,Nd2,h6,Bh4,Be6,O-O,g5,Bg3,Qd7,cxd4,Nxd4,Nxd4,exd4,f4,Ng4,Qf3,Ne3,Bb3,Bxb3,axb3,Nxf1,Rxf1,g4,Qe2,O-O,f5,h5,h4,a5,Nc4,f6,e5,b5,e6,Qc6,Nd2,Bd6,Ne4,Bxg3,Nxg3,a4,bxa4,Ra5,axb5,Rxb5,Nxh5,Kh8,Qxg4,Qb7,Re1,Rg8,Qe2', 'Rxb2,Nf4,Rxe2', 'https://lichess.org/training/woR83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOrcp', 'Rapid', 'annaduraidr', 1601, 'rDuckling', 1763, 'e4,c5,Nf3,Nc6,Bc4,d6,a3,a6,Nc3,b5,Ba2,Bb7,Ng5,e6,d3,h6,Nxe6,fxe6,Bxe6,Nf6,Nd5,Nd4,Nxf6+,Qxf6,Ba2,O-O-O,Be3,Nc6,Qg4+,Kc7,O-O-O,h5,Qg3,g6,Kb1,Bh6,Bxh6,Rxh6,Rhe1,Kb6,Qe3,g5,Qd2,Rg6,c3,d5,exd5,Ne7', 'Re6+,Qxe6,dxe6', 'https://lichess.org/training/wOrcp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WoRSt', 'Rapid', 'bat_of_doom', 1841, 'Abanoub18', 1826, 'e4,e6,d3,d5,Nd2,Bb4,c3,Bc5,Ngf3,Nc6,g3,e5,Bg2,d4,cxd4,Bxd4,O-O,Bg4,h3,Bh5,Qa4,Ne7,Nxd4,exd4,g4,Bg6,Nf3,O-O,b3,a6,Qc4,Qd6,Nh4,Ne5,Qc2,Qf6,Nxg6,N7xg6,f4,Nc6,Bb2,Nxf4,Rf3,g5,h4,h6,Raf1,Qe6,Rxf4,gxf4,Rxf4,Nb4,Qd2,c5,Bc1,Kh7,Bf1,Rg8,Qh2,Rxg4+,Kf2,Rxf4+,Qxf4,Rg8,Qf3,Qg6,Bh3,Qg1+,Ke2,Nc2,Qxf7+,Rg7,Bf5+,Kh8', 'Qf8+,Rg8,Qxh6#', 'https://lichess.org/training/WoRSt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wosse', 'Classical', 'villezu7', 1728, 'nilci', 1606, 'e4,g6,Nf3,Bg7,Bc4,h6,d3,Nc6,Nc3,Nf6,Be3,O-O,Qd2,Ng4,Bf4,e5,Bg3,d6,h3,Nf6,Bh4,Kh7,Nd5,Be6,O-O-O,Bxd5,Bxd5,Qd7,Bc4,a6,Nh2,Rab8,f4,b5,Bb3,Nd4,fxe5,dxe5,Bxf6,Bxf6,Ng4,Bg5', 'Qxg5,hxg5,Nf6+,Kg7,Nxd7', 'https://lichess.org/training/wosse');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wotLG', 'Rapid', 'mxwellc', 1882, 'davoglio007', 1799, 'e4,e5,Bc4,Bc5,b4,Bxb4,c3,Ba5,Qb3,Qe7,Nf3,d6,O-O,Nf6,d4,exd4,cxd4,O-O,Bg5,Qxe4,Bxf6,gxf6,Nbd2,Qg6,Rfe1,Bxd2,Nxd2,Nc6,Bd3,Qg5,Nf3,Qg7,Re4,Bf5,Rae1,Bxe4,Rxe4,Rae8,Rh4,h6,h3,Ne7', 'Rg4,Qxg4,hxg4', 'https://lichess.org/training/wotLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WOtpx', 'Rapid', 'VitaliKedzel', 1735, 'Nima1111', 1712, 'c3,e5,d3,d5,Qa4+,Nc6,Nd2,Bd7,Qb3,Rb8,Qxd5,Nf6,Qf3,Bg4,Qg3,Bd6,f3,Bh5,Ne4,Nxe4,fxe4,O-O,Qg5,Bg6,Qxd8,Rbxd8,Nf3,Rfe8,g3,h6,Bh3,f6,Nh4,Bf7,Nf5,Ne7,Nxd6,cxd6,Be3,a6,Kd2,Nc6,Bf5,Ne7,Bg4,Nc6,h4,Be6,Bxe6+,Rxe6,g4,Rd7,g5,fxg5,hxg5,hxg5,Bxg5,Rg6,Rag1,Ne7,Bxe7,Rxg1,Rxg1,Rxe7,d4,exd4,cxd4,Rxe4,Kd3,Re7,e3,Kf7,b4,Kf6,a4,g5,e4,Rg7,Ke3,g4,Kf4,Rc7,e5+,dxe5+,dxe5+,Ke6,Rxg4', 'Rc4+,Kf3,Rxg4,Kxg4,Kxe5', 'https://lichess.org/training/WOtpx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('woVcR', 'Rapid', 'perycool', 1637, 'kenavo44', 1634, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,c3,Nf6,b4,Bb6,b5,Na5,Nxe5,Nxc4,Nxc4,O-O,Nxb6,cxb6,O-O,d6,Bf4,Bg4,f3,Bh5,Qd2,a6,c4,Rc8,Nc3,a5,a4,Bg6,Rad1,Nh5,Be3,f5,Nd5,f4,Bxb6,Qg5,Nc7,Rf6,Bxa5,Qc5+,Qf2,Rxc7,Bxc7,Qxc7,Qb2,Rf8,Qb3,Qc5+,Kh1,Ng3+,hxg3,fxg3,Rfe1,Qh5+,Kg1,Qh2+,Kf1,Qh1+,Ke2', 'Qxg2+,Ke3,Qf2#', 'https://lichess.org/training/woVcR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOVQd', 'Rapid', 'akggm', 1625, 'Paa_Nii', 1626, 'g3,d5,Bg2,Nf6,e3,e5,Ne2,Bd6,c3,e4,d3,Bg4,O-O,O-O,Re1,Nc6,dxe4,dxe4,Nd2,Ne5,Nxe4,Nxe4,Bxe4,c6,Qc2,Nf3+,Bxf3,Bxf3,b4,Qd7,Nd4,Bd5,c4,Bxb4,Rd1,Be6,Nxe6,Qxe6,Qb2,Qxc4', 'Rd4,Qc3,Rxb4', 'https://lichess.org/training/wOVQd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wOWJm', 'Rapid', 'ylnardav2', 1862, 'COLI41', 1884, 'e4,e6,Nc3,d5,exd5,exd5,Nf3,Nf6,d4,Nc6,Bg5,h6,Bh4,Be6,Be2,Bd6,Nb5,O-O,Nxd6,Qxd6,Bg3,Qb4+,Nd2,Nxd4', 'c3,Qxb2,cxd4', 'https://lichess.org/training/wOWJm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WoyQ3', 'Classical', 'StupidSelfishNasty', 1935, 'hamleh3', 1852, 'Nf3,Nf6,g3,d5,Bg2,e6,O-O,Bd6,d4,O-O,c4,Nbd7,Nbd2,c5,Qc2,b6,b3,Bb7,Bb2,Rc8,Rac1,Ne4,Ne5,Ndf6,f3,Nxd2,Qxd2,Nd7,Rfd1,f6,Nd3,Qc7,cxd5,exd5,dxc5,bxc5,e3,Rfe8,Kh1,Re7,Nb4,Nb6,a4,a5,Nd3,Rce8,Re1,Nd7,Bc3,Qb6,Rb1,Bc7,Nf4,d4,exd4,Rxe1+,Rxe1,Rxe1+,Qxe1,cxd4,Qe8+,Nf8,Ne6', 'Qxe6,Qxe6+,Nxe6', 'https://lichess.org/training/WoyQ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wp0DQ', 'Rapid', 'IM www68', 2008, 'Amr7777', 1979, 'e4,e6,d3,Ne7,Nd2,Ng6,g3,c5,Bg2,Be7,f4,O-O,Ngf3,d6,O-O,Nc6,a4,f5,Re1,e5,exf5,Bxf5,fxe5,Ncxe5,h3,Qd7,g4,Bxg4,Nxe5,Nxe5,hxg4,Nxg4,Bh3,h5,Ne4,Bh4,Bxg4,hxg4,Rf1,g3,Rxf8+,Rxf8,Qe2,Qh3,Qg2,Qg4,Be3,Rf3,Re1,d5,Nd2,Rf2,Qxd5+,Kh8,Nf1,g2,Bxf2,Bxf2+,Kxf2', 'g1=B#', 'https://lichess.org/training/Wp0DQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WP0lo', 'Rapid', 'Inverze', 1757, 'Dacazar2020', 1719, 'd4,d5,Nf3,c6,Bf4,Nf6,e3,Nbd7,Bg3,Qb6,Qc1,Ne4,Bd3,Nxg3,hxg3,e6,Rxh7,Rxh7,Bxh7,g6,b3,Nf6,Bxg6,fxg6,Ne5,g5,Ke2,Bh6,Qh1,Qb5+', 'c4,Qb4,Qxh6', 'https://lichess.org/training/WP0lo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wP3gf', 'Rapid', 'Dhee-Gambit', 1760, 'shadsn', 1701, 'e4,e5,f4,Nc6,Nf3,d6,fxe5,dxe5,Be2,Bd6,O-O,Be6,Bb5,Qd7,d4,exd4,Nxd4,Nge7,Nc3,Bc5,Be3,Bd6,Kh1,a6,Bxc6,Nxc6,h3,Bxh3,Nf5,Bxf5,Rxf5,Ne7,Rf1,f6,Bf4,O-O-O,Qf3,Ng6,Bg3,h5,Rad1,Qe6,Bxd6,Rxd6,Rxd6,Qxd6', 'Qf5+,Kb8,Qxg6', 'https://lichess.org/training/wP3gf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wp3UG', 'Rapid', 'gector52', 1974, 'AlejandroDeaza23', 2004, 'e4,c5,d4,g6,Nf3,Bg7,Bc4,cxd4,Nxd4,d6,f4,Nf6,Nd2,O-O,O-O,Bg4,Qe1,Qb6,c3,e5,h3,Bd7,fxe5,dxe5,Nb3,exd4,Nxd4,Nc6,Be3,Qd8,Bg5,h6,Nxc6,Bxc6,Rd1,Qe7,e5,hxg5,exf6,Qc5+,Kh1,Qxc4,fxg7,Kxg7,Qe5+,Kh7,Qxg5,Rae8,Rf4,Re4,Rd4,Rxd4,Rxd4,Qf1+,Kh2,Kg7,Rh4,Rh8,Qe5+,Qf6', 'Qxf6+,Kxf6,Rxh8', 'https://lichess.org/training/wp3UG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wp4A0', 'Classical', 'kmitch92', 1835, 'rapolas12', 1832, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf5,d5,exd5,Bxf5,Bc4,Bb4,Bg5,Qc7,Qe2,Ne4,O-O,Bxc3,d6,Qxd6,Rad1,Qc7,Bd8,Qc5,bxc3,Nxc3,Qf3,Nxd1,Bxf7+,Kxd8,Rxd1+,Kc7,Qxf5,Nc6,Qd7+,Kb6,Rb1+,Ka5,Qd2+,Nb4,a3,Rhd8,axb4+,Ka4,Bb3+,Kb5,c4+,Kc6,Ba4+,Kc7', 'Qxd8+,Rxd8,bxc5', 'https://lichess.org/training/Wp4A0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wP4PZ', 'Rapid', 'jescalar1', 2044, 'Tatapower', 1805, 'd4,d5,Bf4,e6,e3,c5,Nf3,Nf6,Nbd2,Nc6,c3,Bd6,Ne5,Qc7,Bb5,O-O,Bxc6,bxc6,dxc5', 'Bxe5,Bxe5,Qxe5', 'https://lichess.org/training/wP4PZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wp5Ez', 'Classical', 'djimletrap', 1741, 'ahedres777', 1789, 'e4,e5,d4,exd4,Nf3,d5,e5,Nc6,Bb5,Bd7,O-O,Be7,Bxc6,bxc6,Qxd4,f6,Re1,fxe5,Qxe5,Nf6,Bg5,O-O', 'Qxe7,Qxe7,Rxe7', 'https://lichess.org/training/Wp5Ez');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WP7jc', 'Classical', 'Juliano_Camargo', 1710, 'anilrocks', 1679, 'd4,d5,c4,dxc4,e4,f5,e5,Nc6,Nf3,Be6,Nc3,Bd5,Ng5,e6,Be2,h6', 'Bh5+,Kd7,Nf7', 'https://lichess.org/training/WP7jc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPa1s', 'Rapid', 'McQueen2020', 1747, 'radmoj', 1735, 'e4,c6,d4,d5,Nc3,e6,Nf3,dxe4,Nxe4,Nf6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Bc4,Nd7,O-O,O-O,Re1,Nb6,Bb3,Re8,Ne5,Nd7,Nxd7,Bxd7,Re3,Rac8,Rf3,Qe7,c4,c5,dxc5,Rxc5,Bc2,Bc6,Qd3,g6,Rh3,Rg5,Rg3,Rxg3,Qxg3,Qf6,Bd3,Qxb2,Rb1,Qd2,h3,Rd8,Bf1,Qxa2,Qh4,Rd2,Re1,a6,Qf6,Qa3,Qf4,Qd6,Qf6,Rd1,Re3,Rd4,h4,Qf4,Qe7,Qxh4,Qc7,Qd8,Qe5,Rg4,Rd3,Qb6,Qb8+,Kg7,Rd8,Rf4', 'Rg8+,Kf6,Qxf4+', 'https://lichess.org/training/WPa1s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wpa1V', 'Rapid', 'MakeDeal', 2080, 'SuddenlySorbus', 1873, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Qxd4,Nf6,O-O,Be7,e5,dxe5,Qxd8+,Bxd8,Nxe5,O-O,Nxc6,bxc6,Bxc6,Rb8,b3,Rb6,Bf3,Ba6,Re1,h6,Be3,Re6,Nd2,Rfe8,c4,Bc8,Kf1,a5,a3,Nd7,b4,axb4,axb4,Bf6,Ra8,Bc3,b5,Bd4,Bc6,Bxe3,Rxe3,Rxe3,fxe3,Nb6,Rb8,Rd8,c5,Na4,b6', 'Ba6+,Ke1,Rxb8', 'https://lichess.org/training/Wpa1V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wPapD', 'Rapid', 'mostafa_khaled', 1743, 'BartekSZCZ', 1811, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,Ne2,Bc5,h3,c6,O-O,O-O,d4,Bb6,Nd2,Na6,Nf3,Nc7,Ng3,Ne6,c3,Bc7,a3,Bxg3,fxg3,Ne4,Bf4,Nxf4,gxf4,Bf5,Bc2,Qd7,Ne5,Qc8,Bxe4,Bxe4,g4,f6,Nf3,h5,Nh4,hxg4,hxg4,Kf7,f5,Rh8,Qe1,Qg8,Kf2,Rxh4,Ke2,Re8,Qxh4,Bg2+,Kd2,Bxf1,Rxf1,Qf8,Qh5+,Ke7,Re1+,Kd7,Rxe8,Qxe8,Qh7,Qe7,Qh2,Qe4,Qg3,Kc8,Qe3,Qg2+,Qe2,Qxe2+,Kxe2,Kd7,b4,Kd6,Kf3,b6,Kf4,c5,b5,cxd4,cxd4,Ke7,a4,Kf7,Kg3,g5,fxg6+,Kxg6', 'Kf4,Kf7,Kf5', 'https://lichess.org/training/wPapD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wpBnn', 'Rapid', 'NASZY', 1771, 'budo_aren', 1754, 'e4,e5,Nf3,Nc6,Bc4,h6,a3,b6,O-O,Bb7,d4,exd4,Nxd4,Ne5,Ba2,Bxe4,Re1,d5,Nc3,Nf6,Bf4,Bd6,Ncb5,O-O,Nc3,Ng6,Nxe4,Bxf4,Nxf6+,Qxf6,Bxd5,Rad8,c4,Ne7,Nb5,c6,Bxf7+,Kxf7,Qh5+,Qg6', 'Rxe7+,Kxe7,Qxg6', 'https://lichess.org/training/wpBnn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wpbtc', 'Blitz', 'qris_ug', 1588, 'jan1968', 1511, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bg5,f6,exf6,gxf6,Bc1,Bc5,e3,Bb4+,Bd2,d6,Bxb4,Nxb4,h3,Ne5,a3,Nbc6,Nbd2,Be6,Rc1,Qd7,Be2,O-O-O,O-O,Rhg8,Kh2,Qg7,g3,Qh6,h4,Ng4+,Kh1,Ne7,Nd4,Bd7,Bxg4,Bxg4,Qe1,Rg5,Kg2,Rh5,Rh1,Nf5,Qg1,Nxd4,exd4,Re8,Ne4,Rxe4,Re1,Rxe1,Qxe1,b6', 'Qe8+,Kb7,Qe4+,d5,Qxg4', 'https://lichess.org/training/Wpbtc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPBTH', 'Classical', 'Fabio_DMartinezAq', 1948, 'elmams', 1828, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,h6,c3,Qf6,d4,Bb6,Be3,Nge7,d5,Na5,Be2,Bxe3,fxe3,b6,Nd4,Qg6,Bh5,Qxe4,Bxf7+,Kd8,Ne6+,dxe6,dxe6+,Nd5,Nd2,Qxe3+,Kh1,Ke7,Rf3,Qg5,Ne4,Qg4,Qxd5,Bxe6,Qxe5,Rac8,Re1,Nc6,Bxe6,Nxe5,Bxg4,Nxg4,Nf6+,Kd6,Rd3+,Kc6,Nxg4,Rce8,Ne5+,Kb7,Rd7,Re6,Nf3,Rxe1+,Nxe1,Re8,Nf3,Re2,Rxg7,Rxb2,h4,Rxa2,Nd4,a5,Nb5,Kc6,c4,Kc5,Rxc7+,Kb4,Rb7,Kxc4,Rxb6,a4,Na7,a3,Nb5,Ra1+,Kh2,a2,Na3+,Kc5,Rb2', 'Rh1+,Kxh1,a1=Q+', 'https://lichess.org/training/WPBTH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPcKd', 'Rapid', 'daorab', 1664, 'oblix', 1735, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,dxc4,e4,b5,e5,Nd5,Nxd5,cxd5,b3,e6,a4,Bd7,axb5,Bxb5,bxc4,Bb4+,Bd2,Bxd2+,Nxd2,Bxc4,Qa4+,Qd7,Nxc4,Qxa4', 'Nd6+,Ke7,Rxa4', 'https://lichess.org/training/WPcKd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WpCNl', 'Rapid', 'ozgebru', 1939, 'chwat', 1971, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Be3,e5,Nxc6,bxc6,Qd2,Be7,O-O,O-O,Nc3,d5,exd5,cxd5,Bg5,e4,Be2,d4,Bxf6,Bxf6,Nxe4,Re8,Nxf6+,Qxf6,Bd3,Rb8,b3,Bb7,f3,Re5,Be4,Bxe4,fxe4,Qb6,Kh1,Rxe4,Rf4,Rxf4,Qxf4,Rc8,Rd1,Rxc2,Qe4,Rc8,h3,Rd8,Qe7,d3,Rxd3,Rf8,Rd6,Qa5,a4,Qb4,Rd7,Qxb3', 'Rd8,Qb1+,Kh2,Qb8+,Rxb8', 'https://lichess.org/training/WpCNl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WpCNW', 'Rapid', 'jzerbe', 1819, 'AyrAlex', 1758, 'e4,b6,d4,Bb7,d5,h6,Nf3,Nf6,Nc3,e6,Bc4,Bb4,Bd2,Bxc3,Bxc3,exd5,exd5,O-O,O-O,Ne4,Qd3,Nxc3,Qxc3,d6,a4,Na6,b4,c6,b5,Nc5,dxc6,Bc8,Bd5,Qc7,Nd4,a6,Qc4,Re8,Nf5,Be6,Bxe6,Nxe6,Rfd1,axb5,Qxb5,Ra5,Qd3,Qxc6,Nxd6,Rd8,Qf3', 'Rxd6,Qxc6,Rxc6', 'https://lichess.org/training/WpCNW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wPCZR', 'Rapid', 'IVANNO', 1632, 'lanalb', 1699, 'd4,d5,c4,c6,e3,Nf6,cxd5,Nxd5,Nc3,Nxc3,bxc3,e6,Bd3,Bd6,Nf3,O-O,e4,Nd7,e5,Be7,Be3,f6,Qc2,f5,Qd2,Nb6,Bg5,Bxg5,Nxg5,h6,Nf3,Nd5,c4,Nb6,Be2,Qe7,a4,Qf7,a5,Nd7,h4,Qg6,Rg1,Rd8,Qe3,Nf8,Nh2,Qe8,g4,Qd7,Rd1,b6,g5,hxg5,Rxg5,Nh7,Rg2,bxa5,Bf3,Rb8,h5,Qf7,h6,g6,Bh5,Nf8,Qg5,Kh7,Nf3,Ba6,Nh4,gxh5,Qg7+,Qxg7,Rxg7+,Kxh6,Rg3,Bxc4,f4,a4,Rd2,Rb3,Rg8,Kh7,Rg5,Kh6,Rdg2,a3,Rg8,Re3+,Kd1,a2', 'Rh8+,Nh7,Rg6#', 'https://lichess.org/training/wPCZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPD5K', 'Classical', 'andrei1111', 1815, 'Viktor_Shayko', 1860, 'd4,d6,c4,Nd7,Nc3,c5,e3,Ngf6,Nf3,g6,Bd3,Bg7,dxc5,Nxc5,Be2,a6,O-O,Bd7,Bd2,Rb8,Qc2,Bc6,b3,O-O,Nd4,Nce4', 'Nxc6,bxc6,Nxe4,Nxe4,Qxe4', 'https://lichess.org/training/WPD5K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPdfk', 'Rapid', 'Scattered99', 1706, 'KingRaven777', 1719, 'e4,c5,Nf3,d6,Nc3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,a6,Be3,Nf6,O-O-O,e5,Qd2,Be7,Bc5,dxc5,Qg5,Qc7,Qxg7,Rg8,Nd5,Qd6', 'Nxf6+,Bxf6,Qxg8+', 'https://lichess.org/training/WPdfk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wpdwU', 'Blitz', 'trapthem', 1944, 'fhyuiioo56787888', 1927, 'Nc3,Nf6,d3,e6,Bd2,d5,e3,c5,Qe2,Nc6,O-O-O,Be7,f4,a6,Qf2,Qc7,g4,d4,Ne4,Nxe4,dxe4,O-O,g5,Rd8,h4,Nb4,Kb1,d3,cxd3,Nxd3,Bxd3,Rxd3,Bc3,Rxd1+,Kc2,Rd8,h5,Qc6,Qg2,b5,g6,b4', 'gxh7+,Kxh7,Qxg7#', 'https://lichess.org/training/wpdwU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wPFdS', 'Rapid', 'Shura73', 1671, 'voush', 1664, 'd4,d5,Bf4,e6,e3,Nc6,Nf3,Be7,c3,Nf6,Bd3,O-O,Ne5,Nxe5,dxe5,Nd7,Qf3,b6,Qh3,h6,Bxh6,Nxe5,Bc2,Ng6,Bf4', 'e5,Qh5,exf4', 'https://lichess.org/training/wPFdS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wpfnm', 'Rapid', 'Jeherila', 1727, 'B-451', 1648, 'e4,e5,Bc4,Nf6,Nh3,Nc6,Ng5,d5,exd5,Na5,Bb3,Nxb3,axb3,Qxd5,O-O,Bg4,Qe1,Bd6,Nc3,Qc6,Nce4,Nxe4,Nxe4,Qxc2,Nxd6+,cxd6,d4,f6,f3,Bd7,Bf4,O-O,dxe5,dxe5,Rf2,Qxb3,Ra3,Qb6,Be3,Qe6,Bc5,Rfe8,Qb4,b6,Be3,Qe7,Qc3,Be6,Bd2,Red8,Qe3,Qd6,Bb4,Qd1+,Rf1,Qc2,Qc3,Qxc3,bxc3,Bc4,Re1,a5,Be7,Rd7,Ra4,Bb5,Bxf6,gxf6,Rg4+,Kf7,f4,Re7,fxe5,Rxe5,Rc1,Rc8,h3,Bd7,Rd4,Ke6,c4,Bb5,Rb1,Rxc4,Rxc4,Bxc4,Rxb6+,Kf5,g4+,Kg6,Rb7,Bd5,Ra7,Be4,Kf2,Bc2,Kg3,a4,h4,h6,Kf4,Re4+,Kg3,Bd1', 'h5+,Kg5,Rg7#', 'https://lichess.org/training/wpfnm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wPFvA', 'Rapid', 'Pietrosjan', 1735, 'SakshamJain1', 1996, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Qb6,Qd3,Nge7,Nbd2,Nf5,Nb3,Bd7,Be2,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O,f6,exf6,Rxf6,Rad1,Raf8,Ne5,Nxe5,dxe5,Rg6,Nd4,Nxd4,Qxd4,Bb5', 'Qxb6,axb6,Bxb5', 'https://lichess.org/training/wPFvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wpGoY', 'Rapid', 'Manguan', 1833, 'super_sergio777', 1758, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,c6,Nf3,Bg4,Be2,Nbd7,h3,Bf5,g4,Bg6,Ne4,Qc7,Nxf6+,gxf6,Nh4,Be4,Bf3,Bg6,Nxg6,hxg6,Qe2,O-O-O,Qc4,e6,O-O-O,Nb6,Qe2,Rxd4,Bc3,Rxd1+,Rxd1,Be7,Bg2,Kb8,Qf3,Nd5,Be1,f5,gxf5,gxf5,Bc3,Rg8,Bh1,Qf4+', 'Qxf4+,Nxf4,Be5+,Kc8,Bxf4', 'https://lichess.org/training/wpGoY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WphKI', 'Rapid', 'fredsilva', 1805, 'Aman1983', 1737, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,d3,Nf6,Nf3,Bb4+,c3,Bc5,d4,Bb6,Be2,d5,O-O,O-O,Bg5,h6,Bh4,Bg4,Re1,c5,h3,Bh5,Na3,c4,Nc2,Qd6,Bxf6,Qxf6,Nb4,Qd6,Ne5,f6,Bxh5,fxe5,Rxe5,Nd7,Rxd5,Qe7,Qc2,Nf6,Re5,Qd6,a3,a5,Na2,Bc7,Bf3,Rae8,Rae1,Qd7,R5e2,Qd6,Rxe8', 'Qh2+,Kf1,Qh1+,Ke2,Rxe8+', 'https://lichess.org/training/WphKI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPHSV', 'Classical', 'EndgameMagician', 1922, 'IM NPezelj', 2208, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,Be3,Qb6,Nc3,Qxb2,Qb1,Qb4,a3,Qa5,Qb5+,Qxb5,Bxb5+,Nd7,dxc5,Rc8,Kd2,Bxc5,Nd4,Bg6,Rhb1,Rc7,f4,Ne7,g4,Nc6,Nce2,Nxd4,Bxd4,b6,Rf1,Bxc2,f5,Be4,Rac1,Ke7,Bxd7,Kxd7,fxe6+,Kxe6,Nf4+,Ke7,e6,f6,Nh5,Rhc8,Bxc5+,Rxc5,Rxc5,Rxc5,Nxg7,Rc2+,Ke3,Ra2,g5,fxg5', 'Rf7+,Kd6,e7', 'https://lichess.org/training/WPHSV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPixY', 'Blitz', 'IM DMKey', 2449, 'Roodbaerd', 2059, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Bb4+,Nd2,Nc6,Nf3,Qe7,e3,Ngxe5,Nxe5,Nxe5,Be2,O-O,O-O,Bxd2,Qxd2,d6,Qc3,f6,b4,Be6,Rac1,a6,Rfd1,Rac8,a3,Rfd8,Bg3,Qf7,h3,Qg6,c5,dxc5,Rxd8+,Rxd8,Qxc5,Nd3,Bxd3,Qxd3,Qxc7,Rc8,Qxc8+,Bxc8,Rxc8+,Kf7,Rc7+,Kg6,Rxb7,Qxa3,Bd6', 'Qc1+,Kh2,Qc6', 'https://lichess.org/training/WPixY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wpjIE', 'Rapid', 'nasser55123', 1875, 'zimbizumbi', 1983, 'b3,c5,Bb2,d5,Nf3,Nc6,e3,e6,Bb5,Bd7,Bxc6,Bxc6,Ne5,Nf6,Nxc6,bxc6,Qf3,Be7,Nc3,a5,h3,O-O,d3,c4,dxc4,dxc4,Rd1,Qb6,Na4,Qb5,O-O,cxb3,cxb3,Nd5,Qg3,g6,h4,c5,Rxd5,exd5,Qe5,f6,Qxe7,Rf7,Qxc5,Qxc5,Nxc5,Rc8,Bd4,Rc6,g3,Rfc7,Kg2,Rxc5,Bxc5,Rxc5,Rd1,Kf7,Rd2,Ke6,Kf3,Rb5,Rd4,Rb4,Kf4,f5,Rxb4,axb4,f3,h6,g4,fxg4,fxg4,Kf6,h5,g5+,Kf3,Ke5,Ke2', 'Ke4,Kd2,Kf3,Kd3,Kxg4', 'https://lichess.org/training/wpjIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WpJPH', 'Rapid', 'nerylizzy', 1713, 'cesp62', 1863, 'e4,b6,d4,Bb7,Nc3,a6,a4,e6,Nf3,Nf6,Bc4,Nxe4,Nxe4,Bxe4,Bg5,Bxf3', 'Qxf3,Qxg5,Qxa8', 'https://lichess.org/training/WpJPH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wpk3b', 'Rapid', 'camus133', 1650, 'Cactusjuice', 1662, 'e4,e6,Nf3,c5,c3,Nc6,d4,cxd4,cxd4,a6,Bc4,b5,Bb3,Bb7,O-O,Bd6,d5,Nce7,e5,Bb8,d6,Nd5,Nc3,Nxc3,bxc3,f6,Bf4,fxe5,Nxe5,Nf6,Bg5,O-O,f4,Qb6+,Kh1,Bxd6,Bxf6,Rxf6,Nxd7,Bxg2+,Kxg2,Qc6+,Kg1,Qxd7,Qf3,Raf8,Rae1,Kh8,Re4,e5,Qe3,exf4,Qf3,Bc5+,Kh1,Be3,Rd1,Qf5,Rd5,Qg6,Rd1,Rd6,Rxe3,Rxd1+,Bxd1,Qd6,Re1,Qd2,Rf1,Qxa2,Be2,g5,Bd3,Re8,Qh5,Qg8', 'Bxh7,Qxh7,Qxe8+', 'https://lichess.org/training/Wpk3b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPK4j', 'Rapid', 'Xavier-Cox', 1659, 'killer64us', 1644, 'e4,e5,Nf3,Nc6,c3,Nf6,Bd3,d5,exd5,Nxd5,O-O,Nf6,Re1', 'Qxd3,Nxe5,Nxe5', 'https://lichess.org/training/WPK4j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WpK8A', 'Rapid', 'Lazerraptor', 1741, 'Karazez', 1718, 'e4,b6,d4,Bb7,e5,e6,Nf3,c5,Bc4,cxd4,Qxd4,Bxf3,gxf3,Bc5,Qe4,Nc6,Nc3,Nge7,Nb5,O-O,Bg5,a6,Nd6,Qc7,O-O-O,Bxf2,Rd2,Bc5,Bd3,Nf5,Nxf5,exf5,Qxf5,g6,Qf6,Qxe5,Re2,Qxf6,Bxf6,Nd4,Rg2,Nxf3,Rf1,Nd4,c3,Ne6,b4,Be3+,Kc2,d5,Rf3,d4,cxd4,Bxd4,Be7,Rfe8,Bf6,Bxf6,Rxf6,Rac8+,Kb3,Nd4+,Ka4,b5+,Ka5,Ra8,Rxa6,Rxa6+,Kxa6,Ra8+,Kb6,Rb8+,Kc5,Ne6+,Kc6,Nd4+,Kc7,Re8,Rg5,Re3,Bxb5', 'Ne6+,Kb6,Nxg5', 'https://lichess.org/training/WpK8A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wpKoH', 'Rapid', 'Polje1', 1911, 'pqdungnb2005', 1688, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,h3,Bxf3,Qxf3,Nf6,d4,Qxd4,Nc3,Bb4,Rd1,Qb6,Bg5,Bxc3,Bxf6,Bxb2,Rab1,gxf6,Qxf6,Rg8,Rd3,Rg6', 'Qh8+,Ke7,Qxa8', 'https://lichess.org/training/wpKoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WplDJ', 'Rapid', 'mavruss', 1756, 'Ironman_01', 1756, 'e4,e5,Nf3,Nf6,d3,Nc6,h3,Bc5,Be2,d5,exd5,Nxd5,c3,Nf4,Bxf4,exf4,O-O,O-O,Qd2,Re8,d4,Bd6,Bb5,Bd7,c4,Nxd4,Bxd7', 'Nxf3+,gxf3,Qxd7', 'https://lichess.org/training/WplDJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPlNd', 'Rapid', 'amanbalana', 1955, 'Odnis', 1875, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Bg5,Nbd7,cxd5,exd5,Nxd5', 'Qa5+,Nc3,Qxg5', 'https://lichess.org/training/WPlNd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wpNW7', 'Blitz', 'MellowMoonshine', 2003, 'osman999', 2024, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,g6,d4,exd4,cxd4,a6,Ba4,b5,Bc2,Bg7,a3,Nge7,Nc3,O-O,h3,Na5,Qe2,Be6,d5,Bd7,Bg5,Re8,Qd2,Nc4,Qc1,Qc8,Kh2,Kh8,b3,Ne5,Nxe5,Bxe5+,f4,Bxc3,Bd3,Bxa1', 'Qxa1+,Kg8,Bh6,Nf5,exf5', 'https://lichess.org/training/wpNW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wpoFb', 'Rapid', 'danbar001', 1734, 'cor732', 1744, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qxe4+,Qe2,Qxe2+,Kxe2,Bf5,Re1,Bxc2,Kf1+,Be7,Nc3,Bd3+,Kg1,O-O-O,Ne5,Nh6,Nxd3,Rxd3,Rxe7,Nf5,Re5,g6,b3,Rhd8,h3,f6,Re6,Nd4,Rxf6,Re8,Bb2,Rxd2,Ba3,Ne2+,Nxe2,Rexe2,Rf7,b6,Bb4,Rb2,Rd1,c5,Bc3,Rxa2,Kf1,Rac2,b4,cxb4,Bxb4,a5,Rf8+,Kb7,Ba3,Ka6,Re1,Red2,Bc1,Rd7,Bf4,a4,Ra8+,Kb5,Re5+,Kb4,Re4+,Kb3,Raxa4', 'Rd1+,Re1,Rxe1+,Kxe1,Kxa4', 'https://lichess.org/training/wpoFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPoFL', 'Blitz', 'NM Valera_B5', 2785, 'GM Zhigalko_Sergei', 2785, 'Nf3,d5,d4,e6,e3,Bd6,Bd3,f5,c4,c6,Nc3,Nf6,h3,O-O,g4,Ne4,gxf5,exf5,Rg1,Kh8,Ne2,Be6,c5,Bc7,Nf4,Bf7,Ne5,Qh4,Qf3,Na6,Qg2,Bxe5,dxe5,Bg6,Bxe4,fxe4,Qxg6,Qe7,Qh5,Rxf4,exf4,Nxc5,Kf1,Nd3,Be3,Rf8,Qg5,Qc7,Rg4,g6,h4,Rf5,Qh6,Qf7,e6,Qf6,Rg5,Rxf4,Bxf4,Qxf4,Kg1,Qxf2+,Kh1,Qf3+,Rg2,Nf2+,Kh2,e3,e7', 'Qh3+,Kg1,Qh1#', 'https://lichess.org/training/WPoFL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wPq2b', 'Rapid', 'kunal22081986', 1658, 'Vivek9386', 1674, 'e4,c5,f4,Nc6,Nf3,Qc7,d4,cxd4,Bc4,e6,Nxd4,Bc5,Nxc6,Qxc6,Qe2,Ne7,Be3', 'Bxe3,Qxe3,Qxc4', 'https://lichess.org/training/wPq2b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WpQxp', 'Rapid', 'AlexeyShiman291054', 1996, 'JailtonMaster', 1824, 'e4,d5,exd5,Qd6,Nc3,Nf6,Bc4,g6,Nge2,Bg7,d3,O-O,O-O,Bg4,f3,Qc5+,Kh1,Bh5,g4,Nxg4,fxg4,Bxg4,Bf4,e5,dxe6,fxe6,Qd2,Qh5,Qe3,Kh8,Bxe6,Bxe6,Qxe6,Nc6,Bg3,Rfe8,Qd5,Rxe2', 'Qxh5,gxh5,Nxe2', 'https://lichess.org/training/WpQxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WpSnM', 'Rapid', 'searchasif', 1863, 'GurujitMedhi47', 2166, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Bb5,Bd7,O-O,Nge7,Bg5,h6,Bh4,g5,Bg3,O-O,Nc3,Bg4,d5,Ne5,Be2,Nxf3+,Bxf3,Bd7,Rc1,Ng6,Bg4,a6,Bxd7,Qxd7,Qc2,Rac8,Qb3,Ne5,Na4,Bd4,Bxe5,Bxe5,Rc4', 'b5,Rc6,bxa4', 'https://lichess.org/training/WpSnM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wPttm', 'Blitz', 'melikov093', 1674, 'Oabona', 1697, 'e4,c5,Nf3,a6,a3,Nc6,Bc4,g6,O-O,Bg7,d3,Nf6,Bg5,O-O,Qd2,b5,Ba2,Bb7,Nc3,Qb6,Ne2,d5,e5,Nd7,Qf4,c4,d4,f6,Qg4,f5,Qh4,e6,Bh6,Rf7,Ng5,Re7,Bxg7,Rxg7,Nxe6,Rf7,N2f4,Nxd4,Nxd4,Qxd4,c3,Qxe5,Rfe1,Qf6,Qh6,d4,Re6,Qh8,Rae1,dxc3,Re8+,Rxe8,Rxe8+,Nf8,Ne6,Qf6,b3,Bd5,Ng5,c2', 'Rxf8+,Rxf8,Qxh7#', 'https://lichess.org/training/wPttm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPUPa', 'Rapid', 'KillerusMachinerus', 2155, 'anufleur', 1913, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,f4,Bg7,Bb5+,Bd7,e5,dxe5,fxe5,Nh5,Nf3,O-O,O-O,a6,Bxd7,Qxd7,Re1,Re8,Qc2,b5,Ne4,Qxd5,Nd6,Re6,Bg5,Nd7,Rad1,Qc6,Nd4,Qb6,Nxe6,fxe6,g4,Nxe5,gxh5,Nf3+,Kg2', 'Nxe1+,Rxe1,Qxd6', 'https://lichess.org/training/WPUPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wpvqy', 'Blitz', 'moulinrage', 1768, 'Diteriol', 1737, 'd4,b6,c4,Bb7,Nc3,Nf6,Nf3,g6,Bg5,Bg7,e4,d6,Qc2,a5,Bd3,Na6,a3,O-O,O-O,Re8,Rfe1,c5,d5,Nb8,e5,dxe5,Nxe5,Nbd7,Nf3,Ng4,Nb5,Nge5,Nxe5,Nxe5,Be4,f6,Bd2,f5,Bf3,Nxf3+,gxf3,Rc8,Bg5,Qd7,Re2,h6,Bf4,g5,Be3,e5,dxe6,Qxe6,Rae1,Qg6,Bd2,Rxe2,Rxe2,Bxf3,Re7,Re8,Rc7,Re2,Qd3,Qh5,Rc8+,Kh7,Qxf5+,Qg6,Rh8+,Kxh8,Qxg6,Rxd2,h3', 'Rd1+,Kh2,Be5#', 'https://lichess.org/training/Wpvqy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wPvSG', 'Rapid', 'AdityanKumar', 1880, 'Maximini1', 1951, 'd4,d5,Bf4,Nf6,e3,e6,Bd3,c5,c3,cxd4,exd4,Be7,Nf3,O-O,O-O,a5,Ne5,Nc6,Nd2,Nd7,Ndf3,Ncxe5,Nxe5,Nxe5,Bxe5,a4,Qh5,g6,Qh6,Bf6,f4,Bxe5,fxe5,Qc7,Rf6,a3,bxa3', 'Qxc3,Rd1,Qxd4+', 'https://lichess.org/training/wPvSG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WpW0y', 'Blitz', 'Blackchilli', 2027, 'KultivatorAbabil', 2116, 'Nf3,d6,g3,e5,Bg2,f5,d3,Nf6,Bg5,Be7,c3,h6,Bxf6,Bxf6,Qc2,O-O,O-O,Nc6,Nbd2,Ne7,Rfe1,Ng6,e4,f4,d4,Be6,dxe5,dxe5,Rad1,Qe7,Bf1,Rad8,Nc4,Bg4,Be2,fxg3,hxg3,Bg5,Nxg5,Qxg5,Rxd8,Rxd8,Bxg4,Qxg4,Ne3,Qg5,Kf1,Rf8,Qb3+,Kh7,Nf5,h5,Qxb7,h4,Ke2,Qg4+,f3,Qh3,Qxc7,Rxf5,exf5,Qxf5,gxh4,Nxh4,Qb7', 'Qc2+,Ke3,Ng2#', 'https://lichess.org/training/WpW0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WpW2k', 'Blitz', 'damirii', 1882, 'Braugomes', 1901, 'd4,f5,c4,Nf6,Nc3,e6,e3,c6,Bd3,d5,Nf3,Bd6,O-O,O-O,cxd5,exd5,b3,Ne4,Qc2,Nd7,Nd2,Nxc3,Qxc3,f4,exf4,Bxf4,Nf3,Bd6,Qc2,Nf6,Bg5,Bg4,Ne5,h6,Bxf6,Qxf6,Nxg4,Qf4,f3,h5,g3,Qxd4+,Kg2,hxg4,fxg4,Qxg4,Bf5,Qd4,Qe2,Rxf5,Rxf5,Qxa1', 'Qe6+,Kh7,Rh5#', 'https://lichess.org/training/WpW2k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WpwMo', 'Blitz', 'fitrarahmansyah', 1817, 'MotoPlayer', 2055, 'Nh3,e5,f3,d5,Nf2,f5,d3,f4,e4,Nf6,Be2,Bc5,c3,O-O,d4,Bd6,dxe5,Bxe5,O-O,c5,exd5,Nxd5,Bc4,Be6,Re1,Nc6,Ng4,Bxg4,Bxd5+,Kh8,fxg4,Qf6,Qf3,Rae8,Na3,Bxc3,Rxe8,Bd4+,Kf1,Rxe8,Nc4,Qh4,Bxf4,Rf8,Bxc6,bxc6,g3,Qxh2,Re1,Qg1+,Ke2,Re8+,Ne5,Qh2+,Kd3,Bxe5,Rxe5,Rd8+,Ke4,Qxb2,Kf5,Qc2+,Qe4,Rf8+,Kg5', 'h6+,Kg6,Rf6+,Kh5,Qh2#', 'https://lichess.org/training/WpwMo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wpwYE', 'Rapid', 'agiel9999', 1645, 'Juan-Angel', 1665, 'e4,c5,Qf3,d6,Bc4,Nf6,d3,Nbd7,Bf4,g6,Nh3,Bg7,c3,O-O,O-O,b5,Bd5,Nxd5,exd5,Nf6,Na3,Bd7,c4,b4,Nc2,a5,Ne3,a4,a3,bxa3,Rxa3,Qb6,Ra2,Rfb8,Qg3,Nh5,Qh4,Nxf4,Nxf4,Qd8,Qg3,Rxb2,Raa1,a3,h4,a2,h5,Qb8,hxg6,fxg6,Ne6,Bxe6,dxe6,Rb1,Nc2,Rxf1+,Rxf1,Qb1,Qf3,Qxc2,Qxa8+,Bf8,Ra1', 'Qb1+,Rxb1,axb1=Q+', 'https://lichess.org/training/wpwYE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WPxsy', 'Rapid', 'mimooh', 1939, 'crazykingggddert', 1941, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,Nc3,Qd8,Bb5+,c6,Bc4,Bd6,O-O,Ne7,Ne4,O-O,d3,Bc7,Nfg5,Nd5,Qh5,Bf5,Nh3,Bxe4,dxe4,Nf6,Qe2,h6,Bxf4,Re8,Bxc7,Qxc7,Rxf6,gxf6,Qh5,Qe7,Bd3,Qf8,Rf1,Nd7', 'Qg4+,Kh8,Qxd7', 'https://lichess.org/training/WPxsy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wPycg', 'Rapid', 'dongemall', 1886, 'NotImpostor', 1853, 'd4,Nf6,Nf3,g6,e3,e6,c4,d5,cxd5,Nxd5,Nc3,Bg7,Be2,Nd7,e4,Nxc3,bxc3,b6,e5,Bb7,h4,h5,Bg5,f6,exf6,Bxf6,Bd3,Kf7,Kf1,Kg7,Qc2,Bxf3,gxf3,Nf8,Rg1,Bxg5,Rxg5,Qf6,Ke2,Kh6,Rag1,Rg8,Qa4,Rd8,Qc6,Qf4,Bxg6,Rxg6,Rxg6+,Nxg6,Qxe6,Rd6', 'Rxg6+,Kh7,Qg8#', 'https://lichess.org/training/wPycg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wpZte', 'Rapid', 'Gandoff', 1795, 'LightningChessBolt77', 1879, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nf6,Bc4,Nc6,Nf3,g6,O-O,Bg7,Qe2,O-O,Rd1,a6,a3,b5,Ba2,Bb7,e5,Ne8,e6,fxe6,Bxe6+,Kh8,Bxd7,Na5,Bxb5,Qb6,Ba4,Bxf3,gxf3,Qb7,Nd5,e6,Qxe6,Rd8,Bg5,Rd6,Qe7,Rxd5,Qxb7,Rxg5+,Kh1,Nxb7,Re1,Ned6,Rac1,Bxb2,Rb1,Bxa3,f4,Rxf4,Bc6,Nc5,Re7,Nce4', 'Rb8+,Ne8,Rbxe8+,Rf8,Rxf8#', 'https://lichess.org/training/wpZte');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wQ06h', 'Rapid', 'orlandorochafilho', 1945, 'mati44', 1926, 'b3,e6,Bb2,Nf6,e3,d5,Nf3,c5,Be2,Bd6,O-O,O-O,d3,Nc6,Nbd2,Qc7,h3,b6,c4,Bb7,Bxf6,gxf6,e4,dxe4,Nxe4,Be7,Nh2,f5,Ng3,Nd4,Nf3,Bf6,Nxd4,Bxd4,Rb1,Qc6,Bf3,Qc7,Bxb7,Qxb7,Qh5,Qd7,Kh1,Rfd8,Rbd1,Bg7,Qg5,Qd4,Nh5,h6,Qg3,Qe5,f4,Qc3,Rf3,Kh8,Qh4,Rg8,Rg3,f6,Nxg7,Rxg7,Qxh6+,Rh7,Qg6,Rd8,Kh2,Qd4,Rf1,Rf8,Rgf3', 'Rg8,Qg3,Rxg3', 'https://lichess.org/training/wQ06h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wq4J2', 'Rapid', 'Nickylinkz', 1638, 'nightwinga57', 1671, 'f4,f6,g3,d6,Bg2,Nc6,c3,b6,e3,Bb7,Nf3,Rb8,O-O,e5,fxe5,Nxe5,Nxe5,dxe5,e4,Ba6', 'Qa4+,Qd7,Qxa6', 'https://lichess.org/training/wq4J2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wq6hl', 'Classical', 'kasa', 1753, 'MayoForSam', 1604, 'e4,c5,Bc4,Nc6,a3,Nf6,Nc3,e6,h3,b6,d3,h6,Nge2,Bb7,O-O,d5,exd5,exd5,Ba2,Be7,Ng3,Qd7,Nh5,O-O-O,Nxf6,gxf6,Bxd5,Rhg8,Qf3,a6,Bf4,Bd6,Bxd6,Qxd6,Kh1,Kb8,Rg1,Nd4,Qh5,Rg5,Qxf7,Bxd5,Nxd5,Rxd5,Rae1,Re5,c3,Rxe1,Rxe1,Nc6,Re6,Qc7,Qxf6,Kb7', 'Rxc6,Qxc6,Qxd8', 'https://lichess.org/training/Wq6hl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wq9t7', 'Blitz', 'Ringouz', 2458, 'FM Colmen', 2483, 'd4,d5,Nf3,Nc6,c3,Bf5,Bf4,e6,e3,Bd6,Bg3,Nf6,Bb5,O-O,Nbd2,Ne7,Qe2,c6,Bd3,Ng6,e4,dxe4,Nxe4,Nxe4,Bxe4,Re8,O-O,Qb6', 'Bxd6,Bxe4,Qxe4', 'https://lichess.org/training/Wq9t7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wQA0L', 'Rapid', 'ChessTreasureMap', 2228, 'zims1234', 1919, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nge2,d6,O-O,Nf6,d3,O-O,Bg5,a6,Qd2,Bg4,h3,Bd7,Bh6,Qc8,Bxg7,Kxg7,Kh2,b5,f4,b4,Nd1,h5,Ne3,Nd4,Rf2,Qd8,Raf1,h4,g4,Nh5,gxh5,Bxh3,Nxd4,Bxg2,Rxg2,cxd4,Nf5+,Kh7,hxg6+,fxg6,Nxd4,e5,Ne2,Ra7,Rfg1,Rg7,fxe5,dxe5,Qxb4,Rf3,Rg4,g5,Qe1,Qf6,R1g2,h3,R2g3,Rf2+,Kg1', 'h2+,Kh1,Rf1+,Qxf1,Qxf1+,Kxh2,Qxe2+', 'https://lichess.org/training/wQA0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WqAWO', 'Rapid', 'StarsAngel', 1955, 'koexin', 1757, 'd4,Nf6,Nf3,c5,e3,cxd4,exd4,Nc6,g3,a6,Bg2,b5,Ne5,Bb7,Nxc6,Bxc6,f3,e6,O-O,Be7,c3,Rc8,a3,O-O,Bf4,d6,Qe2,Bd5,Nd2,Nh5,Be3,Nf6,Rae1,Re8,Kh1,Bf8,Bg1,Nd7,Ne4,Bc4,Qf2,Bxf1,Rxf1,Nf6,Ng5,Nd5,f4,h6,Nf3,Nb6,Nh4,Nc4,f5,Rc7,fxe6,Rxe6,Bd5,Ree7,Ng6,Red7,Qc2,Qg5,Nxf8,Kxf8,Bg2,Kg8,Qe4,Re7,Qa8+,Kh7,Qf3,Nd2,Qd3+,Kh8,Rf5,Qg6,Qxd2,Qxf5,h3,Rc8,g4,Qf6,d5,Rce8,Bd4,Re1+,Kh2,Qe7', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/WqAWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WQBmV', 'Classical', 'dadpoor', 1780, 'maxivgc', 1812, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,Nf6,Nc3,g6,Nf3,Bg7,Bd2,d5,Bb5,dxe4,Ne5,Bd7,Bxc6,Bxc6,Nxc6,bxc6,Rd1,O-O,b3,Qb6,Nxe4', 'Qxe3+,Bxe3,Nxe4', 'https://lichess.org/training/WQBmV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WqD7n', 'Rapid', 'Donio', 1817, 'YazanAjour8', 1839, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,Nd5,Nxd5,exd5,Bf5,Qd2,Be7,O-O-O,Nd7,f3,Bg6,g3,Rc8,Bd3,Bxd3,Qxd3,b5,a3,Bg5,f4,Bh6,f5,Bxe3+,Qxe3,Nf6,Nd4,Nxd5,Qe2,Qg5+,Kb1,Nb6,Nf3,Qe7,g4,O-O,g5,Nc4,f6,Qc7,fxg7,Rfd8,h4,a5,b3,Nxa3+,Kb2,b4,h5,Qc3+,Ka2,Qxc2+,Qxc2,Rxc2+,Ka1,Kxg7,Nxe5,Rg2,h6+,Kg8,Nc6,Rd7,Rhg1,Rxg1,Rxg1,d5,Nxa5,Rd6,Nb7,Rc6,Rd1,d4,Rxd4', 'Nc2+,Kb1,Nxd4', 'https://lichess.org/training/WqD7n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wQdcx', 'Classical', 'daniel_444', 1665, 'jfraga', 1651, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,Qf6,Qxf6,gxf6,exd6,Bxd6,Nc3,c6,Bd3,Nd7,O-O,Ne7,Bh6,O-O-O,Rfe1,Rhg8,Kh1,Ne5,Bf4,Nxd3,Bxd6,Nxe1,Bxe7,Nxc2,Bxd8,Nxa1,Bxf6,Rg6,e5,Nc2,f4,Nd4,g3,Kd7,Kg2,Ke6,Kh3,Rh6+,Kg2,Nf5,h4,Rg6,Bg5,h6,g4,Ne3+,Kf3,Nxg4,Kxg4,hxg5', 'f5+,Kxe5,fxg6', 'https://lichess.org/training/wQdcx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WQdg6', 'Rapid', 'Kristijan45', 1866, 'Edil12', 1834, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,Bf5,Qe2,e3,Qb5+,Bd7,Qxb7,exf2+,Kxf2,Bc6', 'Bb5,Nfd7,Bxc6', 'https://lichess.org/training/WQdg6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WqDqz', 'Rapid', 'code_witcher', 1740, 'Ekene', 1624, 'd4,d5,Bf4,Nc6,e3,Nf6,Nd2,a6,c4,dxc4,Bxc4,b5,Bb3,e6,a3,a5,Rc1,Bb7,Ngf3,a4,Ba2,Bd6,O-O,Bxf4,exf4,O-O,Re1,b4,axb4,Nxb4,Nc4,Nxa2,Ra1,Bd5,Rxa2,Bxc4,Rxa4,Rxa4,Qxa4,Bd5,Ne5,Qb8,b4,Rd8,Rd1,Ne4,Qa5,Bb3,Rb1,Rxd4', 'Nc6,Qb7,Nxd4', 'https://lichess.org/training/WqDqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wqE0Q', 'Rapid', 'Mostafa1973', 1789, 'tasodio', 1807, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,Nc3,c5,Ne5,Bd6,Bb5+,Ke7,Bg5,cxd4,exd4,h6,Bh4,g5,Bg3,Ne4,Nxe4,Bxe4,Qh5,Qa5+,c3,Qxb5', 'Qxf7+,Kd8,Qf6+', 'https://lichess.org/training/wqE0Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wqEwl', 'Rapid', 'Mr_Chess_Shock', 1806, 'sankalp_tiwari', 1815, 'e4,d5,Nf3,e6,exd5,Bb4,c3,Bc5,dxe6,Bxe6,d4,Bb6,Bd3,Nf6,O-O,O-O,Re1,Bd5,Nbd2,c5,dxc5,Bxc5,Ne4,Nxe4', 'Bxe4,Bxe4,Qxd8,Rxd8,Rxe4', 'https://lichess.org/training/wqEwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WQEZm', 'Blitz', 'ChessAlekhine', 1523, 'Impana12', 1505, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Bd7,Bc4,e6,Be3,a6,a3,b5,Ba2,Nc6,Nc3,Qc7,Qd2,Be7,f3,Nf6,Nde2,Kf8,Nf4,g5,Nfe2,h6,Ng3,e5,Nge2,Be6,Bxe6,fxe6,Ng3,d5,exd5,exd5,Nxd5,Nxd5,Qxd5,Rd8,Qe6,Nd4,Bxd4,Rxd4,O-O,Rg8,Qxh6+,Ke8,c3,Rh4,Qxa6,Bd6,Qa8+,Kf7,Qd5+,Kf6,Qd3,Rgh8,Qf5+,Ke7,h3,e4,Qxg5+,Kd7,Nxe4,Qb6+,Kh1', 'Rxh3+,gxh3,Rxh3+,Kg2,Rh2#', 'https://lichess.org/training/WQEZm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wqgvc', 'Blitz', 'GamerF3', 2320, 'FM fmewert', 2515, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,Bb4,Ne2,d5,exd5,Nxd5,a3,Nxc3,Nxc3,Bxc3+,bxc3,O-O,O-O,Qd6,Qh5,Be6,Bxe6,Qxe6,a4,Rad8,f4,e4,f5,Qd5,dxe4,Qxe4,f6,Qg6,Qb5,Rfe8,Bf4,Qxc2,Qxb7,Re2', 'Qxc6,Qe4,Qxe4', 'https://lichess.org/training/Wqgvc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WqhsN', 'Rapid', 'Moliday', 1662, 'TbirdV', 1640, 'd4,e6,Nf3,d5,e3,Nf6,a3,c5,dxc5,Bxc5,b4,Bd6,Bb2,O-O,c4,dxc4,Bxc4,Bxb4+,axb4,Qxd1+,Kxd1,Ne4,Nbd2,Nxf2+,Ke2,Nxh1,Rxh1,Nc6,Bc3,a6,b5,axb5,Bxb5,Ne7,Bb4,Nd5,Bxf8,Kxf8,Rc1,Ke7,g3,Ra5,Bc4,Nf6,Bd3,Bd7,Ne4,Ra2+,Rc2,Rxc2+,Bxc2,Bb5+,Bd3', 'Nxe4,Bxb5,Nc3+,Kd3,Nxb5', 'https://lichess.org/training/WqhsN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WQHtX', 'Rapid', 'maddier93', 1697, 'Ethan_Schaffer', 1682, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,d5,Nce7,Nc3,Bg4,Bg5,h6,Bd2,Nf6,Qa4+,c6,dxc6,Nxc6,Bb5,Bd7,Nd5,Ne5,Nxf6+,Qxf6', 'Nxe5,Qxf2+,Kd1,dxe5,Bxd7+', 'https://lichess.org/training/WQHtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wqiVq', 'Blitz', 'Yalmart', 1911, 'MohamedHazem2002', 1865, 'e4,c5,Nf3,Nc6,c3,e5,Bc4,Be7,O-O,Nf6,Re1,d6,h3,O-O,d4,cxd4,cxd4,exd4,Nxd4,d5,exd5,Nxd5,Nxc6,bxc6,Bxd5,cxd5,Nc3,Bb7,Be3,Bf6,Bd4,Qd6,Qd2,Rfe8,Nb5,Qc6,Bxf6,Qxf6,Nc7,Rxe1+,Rxe1,Rd8,Qb4,Qc6,Qe7,Rf8,b4,d4,f3,d3,b5,Qc3', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/wqiVq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wqjqm', 'Rapid', 'elimin8r', 1817, 'smarf', 1655, 'Nf3,d5,d4,Nf6,c4,c6,g3,dxc4,a4,Bf5,Bg2,e6,O-O,Nbd7,Na3,Bb4,Nxc4,O-O,Qb3,a5,Bf4,Nd5,Be5,Nxe5,dxe5,f6,h4,fxe5,Ncxe5,Qc7,Kh2,Bd6,Nd3,Rf6,Ng5,Rh6,e4,Rxh4+,Kg1,Bxg3,exf5', 'Bh2+,Kh1,Bg1+,Kxg1,Qh2#', 'https://lichess.org/training/Wqjqm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wqlJ3', 'Blitz', 'Mistakeee', 1541, 'piwoszach', 1632, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,g6,Nc3,a6,a4,Bg7,Be3,b6,Qd2,Nge7,O-O,O-O,Bh6,d5,Bxg7,Kxg7,exd5,exd5,Ba2,Bb7,d4,c4,Qg5,Nf5,Qf4,Nb4,Rfc1,Nxa2,Rxa2,Qd6,Qxd6,Nxd6,Ne5,Rad8,Ne2,f6,Nf3,Rfe8,Nf4,g5,Nh3,g4,Nf4,gxf3,gxf3,Nf5,Rd1,Nh4,Nh5+,Kf7,Kh1,Nxf3,Ra3,Ng5,Rg1,Re2,h4,Ne6,Rf3,Nxd4,Rg7+,Ke6,Rxf6+,Ke5,Rg5+,Ke4', 'Rf4#', 'https://lichess.org/training/wqlJ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WqMQh', 'Blitz', 'dionysos199', 1633, 'koga545hun', 1694, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,e6,Nf3,Be7,Bd3,O-O,O-O,Bd7,Re1,Qc7,e5,dxe5,dxe5,Ng4,h3,Nxe5,Nxe5,Be8,Bf4,Qb6,Nc4,Qc5,Ne4,Qd4,Be5,Qd8,Qf3,Nc6,Bd6,Nd4,Qh5,f5,Bxe7,Qxe7,Qd1,fxe4,Bxe4,Nc6,Qc2,g6,Ne3,Nd4,Qc4,Nc6,Ng4,Kh8,Bxc6,Bxc6,Rxe6,Qf7,Rae1,h5,Ne5', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/WqMQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wqNa9', 'Rapid', 'Impasible29', 2082, 'UselessP1ayer', 1971, 'e4,c5,Nf3,e6,Nc3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,e5,Nd5,Nxd5,cxd5,Be2,Qc7,Bf4,d6,exd6,Bxd6,Bxd6,Qxd6,O-O,O-O,c4,Bb7,Bf3,Rfd8,cxd5,Bxd5,Bxd5,Qxd5,Qxd5,Rxd5,Rfd1,Rad8,Rxd5,Rxd5,Kf1,Rd2,Rb1,f6,Ke1,Rc2,a4,Kf7,b3,e5,b4,Ke6,a5,Kd5,b5,Kc5', 'b6,axb6,axb6,Kc6,b7,Rc1+,Rxc1+', 'https://lichess.org/training/wqNa9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WQPcU', 'Blitz', 'Jbsutuni', 1708, 'o0snowleopard0o', 1707, 'd4,d5,Nc3,c6,e4,dxe4,Nxe4,Bf5,Ng3,Bg6,Bc4,Nf6,Nf3,Nbd7,O-O,e6,Re1,Bd6,Ng5,O-O,Bxe6,h6,Bxd7,hxg5,Bf5,Bxg3,Bxg6,Bxf2+,Kxf2,fxg6,Kg1,Nd5,c3,Qf6,Re5', 'Qf2+,Kh1,Qf1+,Qxf1,Rxf1#', 'https://lichess.org/training/WQPcU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wqrin', 'Rapid', 'Misochan', 1779, 'gabs92', 1711, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,e6,Bb5,a6,Bxc6,bxc6,O-O,d5,Nxc6,Qc7,exd5,exd5,Nd4,Ne7,Bg5,O-O,Bxe7,Qxe7,Nxd5,Qc5,Qf3,Qxd4', 'Ne7+,Kh8,Qxa8', 'https://lichess.org/training/wqrin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WQRn9', 'Blitz', 'e4-Training', 1783, 'Matth1829', 1798, 'c4,e5,Nc3,Bc5,Nf3,d6,e3,Nc6,d4,exd4,exd4,Bb4,a3,Bxc3+,bxc3,Bg4,Be2,Bxf3,Bxf3,Qe7+,Be2,h6,O-O,Nf6,Re1,O-O,Bf3,Qd7,Bf4,Rfe8,Qd2,Na5,Qd3,g5,Bg3,Rab8,h3,Kg7,Rab1,b6,Kh2,Qa4,c5,Rxe1,Rxe1,dxc5,dxc5,Re8,Be5', 'Rxe5,Rxe5,Qf4+,Kg1,Qxe5', 'https://lichess.org/training/WQRn9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wqsup', 'Blitz', 'Hyge', 1932, 'ShuShuKa', 1926, 'e4,c5,c3,e6,d4,d5,exd5,exd5,dxc5,Bxc5,Nf3,Nf6,Bg5,O-O,Be2,Bg4,O-O,Re8,h3,Bh5,Nd4,Bg6,Re1,Nc6,Nf3,Qd6,Nbd2,h6,Bxf6,Qxf6,Nb3,Bb6,Qxd5,Rad8,Qc4,Bh5,Nfd4,Nxd4,Bxh5,Nc2,Rxe8+,Rxe8,Rf1,Bxf2+', 'Rxf2,Re1+,Rf1,Qxf1+,Qxf1,Rxf1+,Kxf1', 'https://lichess.org/training/wqsup');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WqT9L', 'Rapid', 'Michas007', 1982, 'B-Rahman', 1861, 'c4,Nf6,Nc3,c6,Nf3,d5,e3,Bf5,d4,e6,a3,Bd6,Nh4,Bg6,Nxg6,hxg6,h3,Nbd7,cxd5,exd5,Be2,Qe7,Bf3,Nb6,O-O,Bc7,e4,dxe4,Nxe4,Nxe4,Bxe4,Qd6,g3,Rxh3,Bg2,Rh7,Re1+,Kd7,Bf4,Qf6,Be5,Qf5,Be4,Qh3,Bg2,Qh2+,Kf1,Nd5,Qg4+,Kd8,Bxc7+,Kxc7,Bxd5,cxd5,Rac1+,Kd8', 'Qg5+,f6,Qxd5#', 'https://lichess.org/training/WqT9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WQVEg', 'Blitz', 'fcolecumberri', 1683, 'Kacper92', 1695, 'g4,e5,Bg2,Bc5,d3,Bxf2+,Kxf2,Qh4+,Kf1,Qxg4,Nf3,Nc6,e4,Nd4,Kf2,Nxf3,Bxf3,Qh4+,Kg2,d6,Nc3,Bh3+,Kg1,Nf6,Nd5,Nxd5,exd5', 'Qd4+,Be3,Qxe3#', 'https://lichess.org/training/WQVEg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wQvLv', 'Classical', 'Nieves1982', 1893, 'biglou01', 1940, 'e4,c5,c3,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,cxd4,cxd4,exd4,Nxd4,Bb7,f3,Nf6,O-O,Qb6,Kh1,c5,Nb3,Be7,N1d2,d5,exd5,Bxd5,Re1,c4,Qe2,Be6,Nxc4,Qb4,Bd2', 'Qxc4,Qxc4,Bxc4', 'https://lichess.org/training/wQvLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wqVol', 'Classical', 'Panachey', 1741, 'tAdi', 1609, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,cxd4,cxd4,Nc6,Nc3,a6,Be2,f6,O-O,fxe5,dxe5,Bc5,b3,Nge7,Na4,Qa7,Nxc5,Qxc5,Be3,Qa5,Nd4,Nxe5,Bh5+,g6,Bg4,Bd7,Bxe6,Bxe6,Nxe6,Rg8,Bf4,Qb6,Bxe5,Qxe6,Bg3,O-O-O,Re1,Qd7,Rc1+,Nc6,Bh4,g5,Bg3,d4,Qe2,d3,Qe7', 'd2,Qxd7+,Rxd7', 'https://lichess.org/training/wqVol');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wqw0h', 'Rapid', 'ASzilagyi', 2071, 'Arnold_ucf', 2082, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,e3,Na6,Nf3,c5,Be2,cxd4,exd4,Nc7,O-O,a6,b4,d6,a4,Re8,Re1,Bd7,Qb3,b6,Bxf6,Bxf6,Red1,Rb8,Rac1,b5,cxb5,axb5,a5,e6,Ne4,Be7,Rc2,Nd5,Rdc1,Nf4,Nc3,Bf6,Ne4,Nxe2+,Rxe2,Be7,Rec2,f5,Ned2,Bg5,Nxg5,Qxg5,Nf3,Qf4,Rc7,Rbc8,Rxc8,Rxc8,Rxc8+,Bxc8,Qc3,Bd7,a6,Qe4,a7,Bc6,Ne1,Kf7,f3,Qd5,Nd3,g5,h4,h6,hxg5,hxg5,Nc1,Ke7,Nb3,Qc4', 'Qxc4,bxc4,Na5', 'https://lichess.org/training/Wqw0h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WQW1c', 'Blitz', 'Bekim_Kamberi', 1789, 'Dreyyup', 1744, 'd4,c5,Nf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,a5,e3,Ba6,Bxa6,Rxa6,Qd3,Ra8,O-O,Nf6,Bd2,e5,Ne4,Be7,f4,exf4,Rxf4,O-O,Raf1,Qb6,Bc3,Nd5,Rg4,Nxc3,Qxc3,f6,Rf3,Rab8,Rh3,Qxb2,Qc4+,Kh8,Rgh4,Qc1+,Kf2,h6,Ng3,Rb2', 'Rxh6+,gxh6,Rxh6+,Kg7,Nf5#', 'https://lichess.org/training/WQW1c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wqxih', 'Blitz', 'tanizaki', 1975, 'Y_Markeloff', 2328, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Nc6,Be2,e5,d3,Bc5,Be3,O-O,O-O,Bf5,c4,Qd6,a3,Rad8,Bxc5,Qxc5,Qc2,Rfe8,b4,Qd6,Rad1,Qh6,Qc3,Rd6,d4,exd4,Nxd4,Nxd4,Rxd4,Rxe2,Rxd6,cxd6,Qd4,b6,Qd5,Be4,Qb5,g6,f3,Qe3+,Kh1,Qf2,Rg1,Qxg2+,Rxg2', 'Re1+,Rg1,Bxf3#', 'https://lichess.org/training/Wqxih');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wQydL', 'Blitz', 'Onde_Egon', 1604, 'Bad-move-2000', 1517, 'd4,e6,e4,d6,Nf3,Bd7,e5,d5,Bd3,Be7,O-O,f6,c4,fxe5,Nxe5,Nf6,Bg5,Nc6,Bxf6,Bxf6,Qh5+,g6,Bxg6+,hxg6', 'Qxg6+,Ke7,Qf7+,Kd6,c5#', 'https://lichess.org/training/wQydL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wr05B', 'Blitz', 'capecodfutbol', 1759, 'hsmalambo', 1738, 'd4,Nf6,c4,e6,Nc3,Be7,Nf3,d6,e3,a6,Be2,Nbd7,O-O,b6,d5,e5,e4,Nc5,Nd2,h5,b4,Nb7,f4,Bg4,fxe5,dxe5,Nf3,Bxb4,Qa4+,Kf8,Qxb4+,Kg8,Nxe5,Bxe2,Nxe2,Nxe4,Rxf7,Nbc5,Nc6,Qh4,Rxc7', 'Qf2+,Kh1,Qf1+,Ng1,Nf2#', 'https://lichess.org/training/wr05B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wr1W3', 'Rapid', 'KOBa7', 1636, 'sashaabr', 1611, 'e3,e5,b3,Nc6,Bb2,d5,Bb5,d4,Qh5,Nf6,Qxe5+,Be7,Bxd4,O-O,Bxc6,bxc6,Qg5,h6,Qe5,Bd6,Qa5,Ne4,Ne2,c5,Bb2,Qg5,g3,Bb7,Nbc3', 'Nxc3,Qxc3,Bxh1', 'https://lichess.org/training/Wr1W3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wR47x', 'Rapid', 'arkilone', 1698, 'gemoll', 1628, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,Qf3,Qf6,Qg3,Bd6,Qd3,c6,Bc4,b5,Bb3,Bb7,c3,Bc5,cxd4,Bxd4,O-O,Bxb2,Bxb2,Qxb2,Qc3,Qxc3,Nxc3,Nf6,d3,O-O,Rad1,a6,Ne2,c5,Bc2,d5,e5,Nd7,f4,Rae8,Rde1,f6,d4,cxd4,Nxd4,fxe5,fxe5,Rxe5,Rd1,Nc5', 'Bxh7+,Kxh7,Rxf8', 'https://lichess.org/training/wR47x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wr4UL', 'Rapid', 'car-1934', 1897, 'teddypham', 1954, 'd4,d5,c4,c6,Nc3,e6,Nf3,dxc4,a4,Bb4,e3,b5,axb5,Bxc3+,bxc3,cxb5,Ne5,Bb7,Nxf7,Kxf7,Qh5+,g6,Qxb5,Qc7,f3,a6,Qxc4,Qxc4,Bxc4,Nf6,O-O,Rc8,Ba2,Rxc3,e4,Nbd7,Bf4,Rac8,h3,Bc6,Bb1,Bb5,Rd1,Nb6,Ba2,Na4,d5,exd5,Bxd5+,Nxd5,Rxd5,Rd3', 'Rxd3,Bxd3,Rxa4', 'https://lichess.org/training/wr4UL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WR5KT', 'Rapid', 'Andrey-MO', 1619, 'Uosis59', 1607, 'h4,e5,g4,d5,f3,Nc6,a4,Nf6,c3,Bd6,b4,e4,Qb3,Bg3+,Kd1,exf3,exf3,O-O,Ne2,Bd6,d4,Re8,Bh6,gxh6,g5,Nh5,gxh6,Be6,Na3,a6,b5,axb5,Nxb5,Na5,Qb2,Nc4,Qc1,Qf6,Qg5+,Qxg5,hxg5,Nf4', 'Nxd6,Nxd6,Nxf4', 'https://lichess.org/training/WR5KT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WR8MU', 'Rapid', 'Cyrano64', 2108, 'rashid2212', 2093, 'd4,d5,Bg5,c6,e3,Nd7,Nd2,Ngf6,f4,Qa5,c3,Qb6,Rb1,e6,Bd3,Be7,Ngf3,h6,Bh4,Ng4,Bxe7,Kxe7,Qe2,f5,Ne5,Ngxe5,fxe5,g6,O-O,Nf8,c4,Bd7,b4,Kf7,c5,Qc7,a4,Kg7,b5,Qa5,bxc6,Bxc6,Bb5,Rd8,Bxc6,bxc6,Rb7+,Rd7,Rfb1,Qxa4,R1b2,Rh7,Nb1,Kg8,Rb8,Rhf7,Nc3,Qa5,Qc2,Kg7,Qb3,Qc7,Ne2,Rd8,Rxd8,Qxd8,Nf4,Qa8,Qb8,Qxb8,Rxb8,Rc7', 'Rxf8,Kxf8,Nxe6+,Kf7,Nxc7', 'https://lichess.org/training/WR8MU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wR9Cm', 'Rapid', 'Franz1969', 1816, 'shimab12067', 1875, 'd4,b6,c4,e6,Bf4,Bb7,a3,Nf6,Nc3,Be7,Nb5,d6,Nf3,a6,Nc3,Nbd7,e3,Nh5,Bg3,Nxg3,hxg3,Bf6,Bd3,h6,Be4,c6,Rc1,Qe7,b4,Rb8,a4,d5,cxd5,exd5,Bf5,Qxb4,Bxd7+,Kxd7,Ne5+,Bxe5,dxe5,Rbe8,f4,f6,Qg4+,Kc7,Qxg7+,Qe7,Qxe7+,Rxe7,exf6,Rxe3+,Kf2,Re6,f7,Rf6,Rh5,Rxf7,Rch1,Rf6,Ne2,Bc8,Nd4,Bg4,Re5,Kd7,Rb1,b5,axb5,axb5,Ra1,Kd6,Ra6,Kc5,Nb3+,Kb4,Nd2,Kc5', 'Ne4+,Kb4,Nxf6', 'https://lichess.org/training/wR9Cm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WrBcM', 'Rapid', 'Lofer', 1830, 'WalrusBees', 1792, 'd4,Nf6,Nf3,e6,Bf4,c5,c3,Nc6,e3,Be7,Nbd2,Nh5,Be5,d6,Bg3,Nxg3,hxg3,d5,Bd3,h6,Ne5,Nxe5,dxe5,Qc7,f4,Bd7,Qg4,O-O-O,Qxg7,Rdg8,Qxf7,Rxg3,Qxe7,Rxe3+,Be2', 'Rxe2+,Kxe2,Bb5+', 'https://lichess.org/training/WrBcM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wRcep', 'Classical', 'ArrowEMBR', 1659, 'wan111one', 1648, 'Nf3,e6,e4,d5,exd5,exd5,d4,Nf6,h3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,g6,Bf4,Bg7,Nbd2,O-O,c4,Be6,Ne5,c5,dxc5,dxc4,Nexc4,Qd4,Bxc7,Bxc4,Nxc4,Qxc4,Qd6,Ne4,Qb6,Nxc5,Rfc1,Na4,Rxc4,Nxb6,Bxb6,Bxb2,Rb1,Bg7,Ra4,Rfb8,Rbb4,Bc3,Rb3,Be5,Re4,f6,f4,Bd6,g3', 'Rxb6,Rxb6,Bc5+,Kg2,Bxb6', 'https://lichess.org/training/wRcep');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wRcHn', 'Blitz', 'ALEXQUISPESOLISunslg', 1528, 'Jaime-ERCSA', 1927, 'd3,d5,e3,e5,Be2,Bd6,Nd2,f5,b3,Nf6,Bb2,O-O,a3,c5,h4,b6,g4,fxg4,f3,gxf3,Bxf3,e4,dxe4,dxe4,Nxe4,Nxe4,Bxe4,Bg3+,Ke2,Rf2+,Ke1,Rf4+,Ke2,Qxd1+,Rxd1,Rxe4', 'Rd8+,Kf7,Rxc8,Re8,Rxe8', 'https://lichess.org/training/wRcHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WrDMC', 'Blitz', 'NM soyunrifle', 2064, 'Anatoly-61', 1700, 'e4,e6,Nc3,c5,Nf3,a6,d4,cxd4,Nxd4,Bc5,Nb3,Ba7,Qg4,g6,Bd3,Ne7,Bh6,Rg8,O-O-O,Nbc6,f4,b6,Rhe1,Bb7,Qh3,Qc7,f5,gxf5,exf5,O-O-O,Kb1,Nb4,Be4,d5,fxe6,dxe4,exf7+,Kb8,fxg8=Q,Rxg8,Nxe4,Qxc2+,Ka1,Bxe4,Bf4+,Ka8,Nd4,Qa4,a3,Nc2+,Nxc2,Qxc2,Rd2,Qc4,Qe3,Bd5,b3,Qxb3,Qxb3,Bxb3,Rxe7,b5,Red7,Be6,Rd8+,Rxd8,Rxd8+,Kb7,Re8,Bd4+,Kb1,Bf5+,Kc1,Ba1,Re7+,Kc6,Rf7,Kd5,Rxf5+,Ke4,Re5+', 'Bxe5,Bxe5,Kxe5', 'https://lichess.org/training/WrDMC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WrE1O', 'Rapid', 'Quixchess', 1683, 'eumeyo', 1694, 'e4,c5,Nf3,e6,Nc3,a6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,Nf6,Re1,Be7,Bg5,h6,Bxf6,Bxf6,Nxd5,Qxd5,c4,Qd8,Rb1,O-O,Qe2,Bb7,b4,Qb6,c5,Qc6,Be4,Qxe4,Qxe4,Bxe4,Rxe4,Rfd8,g3,Rab8,c6,Rbc8,Rc4,Be5,b5,axb5,Rxb5,Bc7,a4,Ra8,Rb7,Rdc8,Rd4,Kf8,Rd7,Ba5,Rxf7+,Ke8,Rxg7,Kf8,Rh7,Bc3,Rxh6,Rxc6,Rhh7,Rxa4', 'Rb8+,Rc8,Rxc8#', 'https://lichess.org/training/WrE1O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wre2Z', 'Rapid', 'Adrian1965', 1699, 'wassemonesy', 1630, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nd4,Bxd5+,Ke7,Qe4,Qd6,O-O,Bf5,Qh4+,Ke8,d3,Be7,Qh5+,Bg6,Qd1,Rf8,Be3,Qd7,Bxd4', 'exd4,Bxb7,Rb8,Be4,dxc3', 'https://lichess.org/training/wre2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRE9A', 'Rapid', 'bedo777', 2084, 'templex', 1909, 'e4,e5,Nf3,d6,h3,c5,Bc4,Be7,d3,Nf6,Nc3,O-O,Nd5,Nxd5,Bxd5,Nc6,c3,Be6,O-O,Qd7,Bxe6,fxe6,Qb3,Bf6,Ng5,Bxg5,Bxg5,d5,Rad1,d4,f4,h6,Bh4,exf4,Rf3,Kh8,Rdf1,e5,Be1,Rf7,Qa4,Raf8,Qa3,b6,b4,Qd6,bxc5,bxc5,cxd4,Nxd4,R3f2,Nb5,Qb3,Nd4,Qc4,Qg6,Qxc5,f3,g4,Ne2+,Kh2,h5,Qxe5,hxg4,hxg4,Qxg4,Rxe2,fxe2', 'Rxf7,Rxf7,Qe8+,Rf8,Qxf8+', 'https://lichess.org/training/WRE9A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wreiK', 'Rapid', 'Zhexenov', 1730, 'MrSHH', 1724, 'd4,d5,c4,c5,dxc5,e6,cxd5,Bxc5,Nc3,Nf6,dxe6,Qxd1+,Nxd1,Bxe6,e3,O-O,Nf3,h6,Be2,Rd8,O-O,Nc6,b3,Rac8,Bb2,Ne4,Nc3,Nd2,Nxd2,Rxd2,Rab1,Bb4,Bf3,Bxc3,Bxc3,Rxa2,Rfd1,Ne7,Ba1,b6,g3,Ng6,Be4,Ne7,b4,Nc6,b5,Na5,Rbc1', 'Rxc1,Rxc1,Nb3', 'https://lichess.org/training/wreiK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WrfDB', 'Rapid', 'Alf0n10', 1812, 'Takashi71', 1685, 'e4,e5,Nf3,Nc6,Bb5,a6,Bc4,Nf6,d3,Bc5,Bg5,O-O,O-O,b5,Bd5,Bb7,a3,Rb8,Nc3,h6,Bh4,g5,Bg3,d6,h3,Ne7,Ba2,Ng6,Nh2,h5,Nf3,h4,Bh2,Nh7,Kh1,Kg7,Nd2,f6,Qh5,Rh8,Be6,Nhf8,Qg4,Nxe6,Qxe6,Qe7,Qg4,Bc8,Qf3,Be6,b4,Bd4,Ndb1,Rbf8,Qe2,c6,a4,f5,axb5,axb5,Ra3,fxe4,Nxe4,Bd5,Nbd2,Nf4,Qg4,Kg6,Nf3,Rh5,Nxd4,exd4,Rfa1,Be6,Qd1,Bd5,Ra7,Qe6,Rg7+,Kxg7,Bxf4,Kg6,Bxd6,Bxe4,Bxf8,Bd5,Ra7,Rh7,Rxh7', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/WrfDB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wRFlw', 'Blitz', 'DonSandalio', 2121, 'barikbin', 2094, 'd4,Nf6,Bf4,c5,e3,e6,Nf3,d5,c3,Nc6,Nbd2,Bd6,Bg3,O-O,Bd3,c4,Bc2,b5,e4,dxe4,Nxe4,Nxe4,Bxe4,Qc7,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,e5,Qh4,Kf5,d5,Be7,Qh7+,g6,Nxf7,Nd8,Nh6+,Ke4,O-O-O,Bg5+,Kb1,Qxh7', 'Rhe1+,Be3,Rxe3#', 'https://lichess.org/training/wRFlw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WrGdk', 'Blitz', 'Garoy', 2608, 'GM enmQ', 2688, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d5,cxd5,exd5,Bg5,h6,Bh4,g5,Bg3,Ne4,e3,h5,Bd3,Bf5,f3,Nxg3,hxg3,Bxd3,Qxd3,c6,Kf2,Nd7,g4,h4,Nge2,Qe7,g3,h3,Rh2,O-O-O,Rah1,Rh6,Rxh3,Re6,Rh8,Nf8,R1h6,f6,Nd1,Re8,a3,Bd6,b4,a6,Nec3,Qc7,Ne2,Kb8,Qf5,Qe7,Qd3,Ka7,Nec3,Qc7,Rh3,Qf7,Qf5,R8e7,e4,dxe4,Nxe4,Ng6,R8h7,Qe8,Ne3,Rxe4,fxe4,Rxe4,Nf1,Bf4,gxf4', 'Rxf4+,Kg1,Rxf5', 'https://lichess.org/training/WrGdk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wRGni', 'Rapid', 'enveR12', 1686, 'mclovin512', 1695, 'e4,e6,d4,d5,e5,c5,Bd3,cxd4,Nf3,Bc5,O-O,Qb6,Nbd2,Nc6,Nb3,a6,a4,a5,Bb5,Bd7,Nbxd4', 'Nxd4,Nxd4,Bxd4', 'https://lichess.org/training/wRGni');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wRiAB', 'Rapid', 'Balasuriya', 1915, 'Dbtonye', 1884, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,Nc6,Bd2,e5,Nf3,Bg4,Be2,O-O-O,h3,Bh5,a3,f5,Rc1,e4,dxe4,fxe4,Nxe4,Qf5,Ng3,Qg6,Nxh5,Qxh5,O-O,g5,Ne5,Qe8,Nxc6,Qxc6,Bf3,Qg6,Qe1,h5,Bc3,Nf6,Bxf6,Qxf6,Qe4,Qa6,Rfd1,Bd6,Qf5+,Kb8,Qxg5,Rhg8,Qxh5,Rdf8,Rd3,Qb6,Rb3,Qd4,Bxb7', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/wRiAB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wrJ99', 'Rapid', 'Xrgq12', 1776, 'adis1990', 1884, 'e4,c5,d4,e6,Nf3,Nc6,d5,exd5,exd5,Qe7+,Be2,Ne5,O-O,d6,Re1,Bd7,Nxe5,dxe5,Nc3,O-O-O,a4,Nf6,Nb5,Bxb5,axb5,Rxd5,Bd2,Ne4,Bf3,Rxd2,Qc1,Qd6,Rxa7,Nxf2,Bxb7+,Kb8,Qa1,Qb6,Ra8+,Kxb7,Ra6,Qxb5,Ra7+,Kb6,Rxf7,Qa5', 'Rb7+,Kxb7,Qxa5', 'https://lichess.org/training/wrJ99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wrKHa', 'Classical', 'Al_Xorazmiy', 1994, 'mobin12345', 2008, 'd4,Nf6,Nc3,d5,e4,dxe4,f3,exf3,Qxf3,Qxd4,Be3,Qd8,Nh3,Nc6,Bc4,Bg4,Qf4,e5,Bxf7+,Kxf7,Qc4+,Ke7,Ng5,Bh5', 'Qe6#', 'https://lichess.org/training/wrKHa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRkRx', 'Blitz', 'Mohamdy111', 1538, 'Husein_Mairtup', 1650, 'Nf3,Nc6,d4,Nf6,d5,Nb4,c4,e5,Nxe5,Bd6,Bf4,O-O,a3,Bxe5,Bxe5,Na6,b4,c6,b5,Nc7,d6,Ne6,g3,cxb5,cxb5,Qa5+,Bc3,Qxb5,e3,Nd5,Bxb5,Nxc3,Nxc3,a6,Be2,b5,Bf3,Rb8,Nd5,Nc5,Ne7+,Kh8,O-O,Bb7,Bxb7,Rxb7,Qf3,Rb6,Rad1,Ne6,e4,Ng5,Qf5,h6,Qxd7,Rfb8,Qg4,b4,a4,b3,d7,Rd8,Nd5,Rd6,Nb6,Rxb6,e5,Rg6,Qf5,Re6,h4,g6,Qxf7,Nxf7,f4,g5,hxg5,hxg5,Rf2,gxf4,gxf4,Rg6+,Kf1,Rh6,Ke2,Re6,Kf3,Nxe5+,fxe5,Rxe5,Rb2,Rf5+,Kg4,Rf7,Rxb3', 'Rg8+,Kh5,Rh7#', 'https://lichess.org/training/WRkRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRKZR', 'Blitz', 'nichiren1967', 1934, 'ivan_008', 1917, 'e4,c5,f4,Nc6,Nf3,b6,Bc4,Bb7,Ng5,e6,d3,h6,Nxf7,Kxf7,f5,Nf6,fxe6+,dxe6,O-O,Nd4,c3,b5,cxd4,bxc4,e5,Qxd4+,Kh1,Qd5,Qe2,cxd3,Qf2,Be7,exf6,Bxf6,Nc3,Qd4,Be3,Qg4,Bxc5,Rac8,Bb4,a5,Bd6,Rhd8,Be5,Kg8,Bxf6,gxf6,h3,Qg6,Rad1,Qh5,Qxf6', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/WRKZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wrLIl', 'Rapid', 'hapali', 1907, 'isuckatchess247', 1923, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,Nc3,Nc6,Bc4+,Be6,Bxe6+,Kxe6,O-O,Be7,d4,Kf7,f4,Rf8,e5,Nd7,Qh5+,Kg8,Bd2,Nxd4,Nd5,Rf5,Qg4,g6,c3,Nc6,Ne3,Rf8,Qe6+,Kh8,c4,dxe5,fxe5,Ndxe5,Bc3,Qd6,Qh3,Kg8,Rxf8+,Rxf8,Rd1,Qf6,Ng4,Qf5', 'Nh6+,Kh8,Nxf5', 'https://lichess.org/training/wrLIl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wrlKU', 'Blitz', 'Minesta', 2054, 'L-B-G', 2108, 'e4,c5,Nc3,g6,f4,Bg7,Nf3,Nc6,Bb5,Nd4,O-O,e6,d3,Ne7,Nxd4,Bxd4+,Kh1,O-O,Ne2,Bg7,Ng3,a6,Bc4,d5,Bb3,b5,c3,c4,Bc2,dxe4,dxe4,Bb7,Qe2,Qd7,Be3,Qc6,Rad1,Rad8,Bd4,Bxd4,Rxd4,Rxd4,cxd4,f5,exf5,exf5,Re1,Nd5,Qf2,Nxf4,Rg1,Nh3,Qd2,Nxg1,Kxg1,Re8,Bd1,Qd6,Bf3,Bxf3,gxf3,Rd8,Ne2,Qd5,Kf2,Re8,h4,Qd8,Qf4,Qe7,Nc3,Qe1+,Kg2,Qe3,Qd6,Qd2+,Kh3,Qf2,Qd5+,Kf8,Qd6+,Re7,Qf6+,Rf7,Qh8+,Ke7,Nd5+,Ke6,Qe5+,Kd7,Qc7+,Ke6,Qe5+,Kd7', 'Qc7+,Ke8,Qc8#', 'https://lichess.org/training/wrlKU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wRlqX', 'Rapid', 'AndrUA', 2148, 'pravin3', 1821, 'Nf3,d5,e4,dxe4,Ng5,e5,Nxe4,Nf6,Nbc3,Be7,g3,O-O,Bg2,Nxe4,Nxe4,f5,Nc3,f4,Ne4,Bf5,d3,Qd7,O-O,Bh3,b3,Bxg2,Kxg2,f3+,Kh1,Qh3,Rg1,Rf5,Qf1,Qh5', 'g4,Qg6,gxf5', 'https://lichess.org/training/wRlqX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRMh0', 'Blitz', 'tonyghie10', 1938, 'mchtklc', 1501, 'e4,e5,Nf3,d5,Nc3,d4,Ne2,Nc6,Ng3,g6,Bc4,Bg7,a4,Nge7,O-O,O-O,a5,Bg4,h3,b6,a6,Bd7,d3,Nb8,b4,b5,Bb3,Bc8,c4,Bxa6,cxb5,Bxb5,Bg5,Nbc6,Bd5,h6,Bxe7,Qxe7,Qb3,Qxb4,Qxb4,Nxb4,Bxa8,Rxa8,Rfb1,a5,Rxa5,Rxa5,Rxb4,Bxd3,Rb7,Rc5,Rb8+,Kh7,Rd8,Rc1+,Kh2,f5,exf5,gxf5,Nh4,f4,Ngf5,Bf6,Rd7+,Kh8', 'Ng6+,Kg8,Nxh6#', 'https://lichess.org/training/WRMh0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRmYP', 'Blitz', 'Malikhash', 1522, 'oimara', 1624, 'e4,Nc6,Nf3,d6,d4,Bg4,Bb5,e6,h3,Bh5,Be2,Nf6,O-O,Nxe4,Re1,Nf6,Qd3,Bg6,Qc3,Nd5,Qc4,Be7,Nc3,Nb6,Qb3,Na5,Qb4,Nc6,Qb5,Bxc2,Bg5,a6,Bxe7,Qxe7,Qg5,f6,Qg3,O-O-O,a4,g5,a5,Nd7,d5,Nce5,dxe6,Qxe6,Nd4,Qf7,Rec1,Bg6,Bf3,Nxf3+,Qxf3,Ne5,Qg3,h5,b4,g4,h4,f5,b5,f4,Qh2,axb5,Ncxb5,c6,a6,g3,fxg3,fxg3,Qxg3,Ng4,Qh3,Qf2+,Kh1,Be4,axb7+,Kxb7,Ra7+,Kb6,Nc3,Kxa7,Nxe4,Qxd4,Qa3+,Kb7,Rb1+,Kc7,Qa5+,Kd7,Rb7+,Ke6,Ng5+,Kf6,Rf7+,Kg6,Qf5+,Kh6,Qe6+,Nf6', 'Rxf6+,Qxf6,Qxf6#', 'https://lichess.org/training/WRmYP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WrNOC', 'Rapid', 'manny_garcia', 2061, 'Alex1ndr', 2201, 'Nf3,Nf6,d4,d5,c4,e6,Nc3,Bb4,Bg5,h6,Bxf6,Bxc3+,bxc3,Qxf6,Qb3,dxc4,Qxc4,Qd8,g3,b6,Bg2,Bb7,O-O,Nd7,Rad1,O-O,Ne5,Bxg2,Kxg2,c5,Nxd7,Qxd7,dxc5,Qc6+,e4,Rfc8,Rd6', 'Qxd6,cxd6,Rxc4', 'https://lichess.org/training/WrNOC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wRocp', 'Rapid', 'mehmet9527', 1852, 'eppi', 1871, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,e3,c6,Nf3,Qb6,Bxf6,c5,Be5,Nxe5,Nxe5,Bd6,b3,cxd4,exd4,Bb4,Qc2', 'Qxd4,Rc1,Qxe5+', 'https://lichess.org/training/wRocp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wrODC', 'Blitz', 'perruche', 1778, 'archboundravager', 1679, 'e4,d5,Nc3,dxe4,Nxe4,e5,Bc4,Nf6,Nxf6+,Qxf6,Nf3,Nc6,O-O,Bd6,Re1,Bg4,Be2,O-O-O,d3,e4,Nd2,h5,Nxe4,Qh4,Nxd6+,Rxd6,Bxg4+,hxg4,Bf4,Nd4,Bxd6,cxd6,c3', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/wrODC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRQLZ', 'Rapid', 'BigTy', 2186, 'Bentowntfrank', 2134, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Nf6,Nc3,d6,f3,Nxd4,Qxd4,Bg7,Be3,O-O,Qd2,Qa5,Rc1,Be6,Bd3,Rfc8,b3,a6,Nd5,Qxd2+,Kxd2,Nxd5,cxd5,Bd7,Rxc8+,Rxc8,Rc1,Rxc1,Kxc1,Bc3,Kc2,Bf6,a4,Kf8,Kd2,e6,Bb6,Ke7,Bc2,h5,Bd1,h4,h3,Bg5+,Kd3,f5,Kc4,fxe4,fxe4,exd5+,exd5,Kf6', 'Bd8+,Ke5,Bxg5', 'https://lichess.org/training/WRQLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRqR4', 'Rapid', 'FranziniAlexandre', 1699, 'esdeathh2', 1731, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,Qa5,Bd2,Qb6,Nf3,Bg4,Be2,Nc6,Be3,Qxb2,Qc1,Qb4,Rb1,Qa5,Rxb7,Nxe4,Bd2,Nxd2,Qxd2,e6,Bb5,Rc8,Qf4,Qxc3+,Kf1,Bxf3', 'Qxf7+,Kd8,Rd7#', 'https://lichess.org/training/WRqR4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRugT', 'Rapid', 'evgen416n', 1709, 'Feuerschreiner', 1755, 'e4,c5,Nf3,Nf6,d3,d6,Be2,Nc6,O-O,e6,h3,Be7,Nh2,O-O,Bf3,Nd4,Nc3,Nxf3+,Qxf3,Bd7,Ng4,Nxg4,Qxg4,Re8,Bh6,Bf8,Be3,Rc8,Rac1,d5,exd5,exd5,Qg3,d4,Bxd4,cxd4,Ne4,Bc6,Nd2,Bd6,Qg4,Qf6,Kh1,Qe5,f4,Qd5,b3,Re6,Rf2,Rg6,Qxc8+,Bf8,Rg1,h6,Nc4,Bd7,Qc7,Bxh3,Ne5,Bg4,Nxg6', 'Qh5+,Nh4,Qxh4#', 'https://lichess.org/training/WRugT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wruTn', 'Rapid', 'nanardo', 1843, 'ivanmuts', 1862, 'c4,e5,Nc3,c5,g3,Nc6,Bg2,d6,h3,Nf6,Nf3,Be7,O-O,O-O,d3,Be6,e4,Rb8,Be3,h6,Qd2,Kh7,Nh4,Qd7,Nf5,Bxf5,exf5,Qxf5,Be4,Nxe4,dxe4,Qxh3,Qe2,Rh8,Qf3,Bg5,Nd5,Bxe3,fxe3,Kg8', 'Qxf7+,Kh7,Nf6#', 'https://lichess.org/training/wruTn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRuvc', 'Rapid', 'nicsmyrn', 1998, 'emad-dibbini', 2012, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,d4,d6,c4,O-O,cxb5,axb5,dxe5,Nxe5,Nxe5,dxe5,Nc3,c6,Bc2,Be6,Bg5,h6,Bxf6,Bxf6,a4,Qb6,axb5,cxb5,Rxa8,Rxa8,Nd5,Bxd5,exd5,Qd6,Be4,b4,Qc2,Rb8,Qc6,Qd8,b3,Rb6,Qc5,Be7,Qc4,Bd6,Rc1,Rb8,Qa6,g6,g3,f5', 'Rc6,Ra8,Rxd6,Rxa6,Rxd8+', 'https://lichess.org/training/WRuvc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRvgC', 'Rapid', 'legrandvizir', 2079, 'fatihckrr', 1986, 'e4,d5,exd5,Qxd5,d4,Nc6,c3,Nf6,Be3,e5,Nf3,e4,Nfd2,Bg4,Qa4,Bd6,c4,Qe6,d5,Qe5,dxc6,Qxb2,cxb7+,Ke7,bxa8=Q', 'Qc1+,Qd1,Qxd1#', 'https://lichess.org/training/WRvgC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wrvmk', 'Rapid', 'grecoattack', 1726, 'Mikezaster3000', 1699, 'd4,d5,Nc3,Nf6,Bf4,Nc6,e3,h6,Bd3,a6,Nf3,Bg4,h3,Bh5,g4,Bg6,Rg1,Bxd3,Qxd3,e6,h4,Bd6,g5,Bxf4,exf4,hxg5,fxg5,Nd7,O-O-O,Qe7,Ne5,Ncxe5,dxe5,Nxe5,Qe2,Nc6,Kb1,Rxh4,g6,Nd4,Qe3,O-O-O', 'Rxd4,Rxd4,Qxd4', 'https://lichess.org/training/Wrvmk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wrw24', 'Rapid', 'EvilSa1nt', 1814, 'Dila21', 1896, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,e5,d5,exd6,Bxd6,Bb5,Ne7,O-O,O-O,Bg5,h6,Bh4,Qc7,Bg3,Bxg3,fxg3,Qb6+,Kh1,Rd8,Qe2,a6,Ba4,Qa7,Rad1,b5,Rxd8+,Nxd8,Bc2,Bb7,Qd3,g6,Ne5,Nf5,Ne4,Kg7,Ng4,Qd4,Qxd4+,Nxd4,Bd3,f5,Nd6,Nf7,Nxb7,fxg4,Rf4,Rc8', 'Rxf7+,Kxf7,Nd6+,Ke7,Nxc8+', 'https://lichess.org/training/wrw24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRW7S', 'Rapid', 'OHMYGODMAN', 1667, 'Apollo8', 1690, 'e4,c5,Nf3,e6,c3,Nc6,d4,cxd4,cxd4,d6,Bb5,Bd7,Bxc6,bxc6,O-O,Be7,Nc3,Nf6,e5,dxe5,dxe5,Nd5,Nxd5,cxd5,h3,O-O,g4,f6,exf6,Rxf6,Bg5,Rf8,Bxe7,Qxe7,Ne5,Be8,f4,Qh4,Kh2,a5,f5,exf5', 'Qxd5+,Bf7,Nxf7', 'https://lichess.org/training/WRW7S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wrY86', 'Rapid', 'tjomens', 1852, 'ElIngenieri', 1921, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,Nb3,Bb4+,c3,Be7,Be3,Nc6,N1d2,Nf6,Bc4,d5,exd5,exd5,Bb5,Be6,Nf3,a6,Bd3,h6,O-O,Ne4,Bxe4,dxe4,Nfd4,Nxd4,Nxd4,Bc4,Qa4+,b5,Qc2,Bd3,Qb3,Bxf1,Rxf1,O-O,Qd1,Bg5,Qg4,f5,Nxf5,Qd7', 'Nxh6+,Bxh6,Qxd7', 'https://lichess.org/training/wrY86');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wrYYn', 'Blitz', 'Kudrin64', 1813, 'aththemaniac', 1940, 'e4,c6,d4,g6,f4,Bg7,Nf3,d6,h3,Nd7,Nc3,e5,fxe5,dxe5,d5,Ngf6,Bc4,O-O,O-O,cxd5,Nxd5,Nxd5,Bxd5,Nf6,c4,Qb6+,Kh2,Nh5,Rb1,Bd7,Qe2,Bc6,Be3,Qc7,Rfc1,Nf4,Bxf4,exf4,b3,Rae8,Qc2,Kh8,b4,f5,exf5,Bxd5,cxd5,Qd6,Qc5,Qf6,Qxa7,g5,Qxb7,h5,Rc6,Qd8,Rc7,Rg8,Rd7,Qf6,Rc1,g4,Rc6,g3+,Kh1,Qa1+,Ng1', 'Qxg1+,Kxg1,Re1#', 'https://lichess.org/training/wrYYn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WRzRG', 'Rapid', 'artiroth', 1840, 'ayyyas', 1752, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,d4,e6,Nc3,a6,Ne2,Bd6,Ng3,O-O,Bg5,Qc7,Qd3,Rac8,c3,h6,Bd2,Nb6,Rfe1,Nc4,Rab1,b5,Be3,Ng4,Nd2,Ngxe3,Rxe3,Nxe3,Qxe3,Bf4,Qe2,Bxd2,Qxd2,Qc4,Re1,a5,Nh5,b4,Re3,Qxa2,h3,bxc3,Qe2,cxb2,Rg3,g6,Qe5,b1=Q+,Kh2,f6,Qxe6+,Kh7,Qe7+,Kg8', 'Qg7#', 'https://lichess.org/training/WRzRG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ws0a5', 'Rapid', 'Valentyn16397', 1697, 'Nico97', 1795, 'e4,e5,f4,d6,Nf3,Bg4,Bc4,Bxf3,Qxf3,Qh4+,g3,Qf6,Nc3,Be7,Nd5,Qg6,Nxc7+,Kf8,fxe5,Nd7,Nxa8,Nxe5,Qb3', 'Qxe4+,Qe3,Qxh1+', 'https://lichess.org/training/Ws0a5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WS2KA', 'Rapid', 'BaldeSuper', 1973, 'Kevin1970', 1919, 'c4,e5,g3,Nc6,Bg2,g6,e3,Bg7,Ne2,Nge7,d4,exd4,exd4,O-O,O-O,d6,Nbc3,Bg4,f3,Bf5,Be3,Qd7,Qd2,Bh3,Bh6,Bxg2,Kxg2,Bxh6,Qxh6,Nf5,Qd2,Rfe8,Rf2,Ne3+,Kg1,Nxc4,Qh6,Nxb2,h4,Nd3,Rh2,Qe7,Nd5,Qe6,Nxc7,Qe3+', 'Qxe3,Rxe3,Nxa8', 'https://lichess.org/training/WS2KA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WS3FF', 'Rapid', 'Cesarnation', 1957, 'AshwathKodvakare', 1975, 'e4,e5,Bc4,Nf6,Nf3,Nc6,O-O,h6,d4,exd4,e5,Ne4,Re1,Ng5,Nxd4,Bc5,Be3,O-O,Nc3,d6,f4,dxe5', 'Nxc6,Bxe3+,Rxe3', 'https://lichess.org/training/WS3FF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wS3QL', 'Rapid', 'Sionexadrez', 2167, 'mickg2', 2004, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d6,h3,Nb8,d4,Nbd7,Nbd2,c5,Nf1,c4,Bc2,Bb7,Ng3,Re8,Bg5,h6,Bd2,Bf8,Nf5,exd4,cxd4,Bxe4,Bxe4,Rxe4,Rxe4,Nxe4,Qe2,Nxd2,Nxd2,Qf6,Qe4,Rd8,Nf3,Qe6,Qg4,Qg6,Qf4,Re8,Rc1,d5,Ne3,Re4,Qc7,Nf6,Ne5,Ne8,Qb7,Qe6,Rd1,f6,Nf3,Nd6,Qxd5', 'Rxe3,Qxe6+,Rxe6', 'https://lichess.org/training/wS3QL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ws5C8', 'Rapid', 'Duenstgemuese', 1604, 'pawnschips', 1615, 'e4,e5,f4,f6,Nf3,Nc6,b3,h6,Bb2,d6,Nc3,g5,f5,Be7,g4,h5,Bh3,hxg4,Bxg4,Nh6,Ng1,Nxg4,Qxg4,b6,O-O-O,Bb7,Nd5,Rh4,Qg2,Nd4,Bxd4,exd4,Ne2,c6,Nxe7,Qxe7,Ng3,c5,Rhe1,O-O-O,d3,Rdh8,Rd2,d5,Rde2,Qh7,exd5,Rxh2,Re8+,Rxe8,Rxe8+,Kd7,Qe4,Qf7,Qe6+,Qxe6,Rxe6,Bxd5,Rxf6,Rg2,Ne4,g4', 'Rd6+,Ke8,Rxd5', 'https://lichess.org/training/ws5C8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WS5CL', 'Blitz', 'ChessTrain_YT', 2473, 'Flowol1210', 2194, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Be2,O-O,O-O,Re8,Nc3,a5,b3,Ngxe5,Bb2,Nxf3+,Bxf3,Ne5,Ne4,Bf8,Ng3,Ra6,Be4,Qh4,h3,Rf6,Qh5,Qxh5,Nxh5,Rd6,Ng3,b6,Rad1,Rxd1,Rxd1,g6,Kf1,h5,Bc2,d6,Ne2,Bg7,Nd4,Bd7,Ba1,Nc6,Nb5,Bxa1,Rxa1,Rc8,Be4,Kf8', 'Bxc6,Bxc6,Na7,Bb7,Nxc8', 'https://lichess.org/training/WS5CL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ws5gE', 'Rapid', 'Lamino', 1650, 'Fiva', 1669, 'd4,c6,c4,d5,Nc3,dxc4,a4,b5,axb5,cxb5,Nxb5,a6,Nc3,Bb7,Qa4+,Nd7,e3,e5,dxe5,Qb6,Bxc4,Bxg2,Bxf7+,Kxf7,Qxd7+,Be7,Nd5,Qe6,Qxe6+,Kxe6,Nf4+,Kxe5,Nxg2,Bb4+,Bd2,Bxd2+,Kxd2,Nf6,Nf3+,Ke4,Rhd1,Kxf3,Nf4,Rad8+,Ke1,Rxd1+,Rxd1,Ne4,Nh3,Kg2,Rd4,Kxh3,Rxe4,Kxh2,Re7,g5,Ra7,h5,Rxa6,g4,Ra1,h4,Kf1,Rf8,Ke2,Kg2,Ra4,Rxf2+,Ke1,Kg3', 'Rxg4+,Kxg4,Kxf2', 'https://lichess.org/training/ws5gE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wS76Q', 'Classical', 'usma', 1662, 'paolo21081979', 1625, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,h6,Bxf6,exf6,e3,Bb4,cxd5,cxd5,a3,Bxc3+,bxc3,Qc7,Qb3,Be6,Nf3,O-O,Rb1,b6,Bd3,Nc6,Qc2,Kh8,O-O,a5,a4,Nb4', 'cxb4,Qxc2,Bxc2', 'https://lichess.org/training/wS76Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ws7hv', 'Blitz', 'magnimma', 1538, 'Diazonium1', 1531, 'd4,d5,c4,Nf6,Nc3,Bf5,Bg5,e6,Nf3,Be7,e3,c6,c5,Qa5,Bd3,Bxd3,Qxd3,Ne4,Bxe7,Kxe7,O-O,Nxc3,bxc3,Nd7,a4,Nf6,Rfb1,Rab8,Nd2,Ng4,h3,Nf6,f3,h5,c4,h4,cxd5,cxd5,e4,Qc7,e5,Nh5,Nf1,f6,exf6+,gxf6,Qg6,Rbg8,Qc2,Nf4,Ne3,Nxh3+,Kf1,Qh2,Ke2,Nf4+,Kd2,h3,Ng4,Qxg2+,Kc3,Qxf3+,Kb2,Nd3+,Ka2,Rxg4,Rxb7+,Kd8,Qb3,Qe2+,Ka3,Nb2', 'Rb8+,Kc7,Qb7#', 'https://lichess.org/training/Ws7hv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WS8Fr', 'Classical', 'GabriGab', 1930, 'Born2bfree', 1913, 'f4,d5,Nf3,Nc6,e3,Bg4,Be2,f6,b3,e5,fxe5,fxe5,Bb2,Bd6,O-O,Nf6,d3,Qd7,Nbd2,O-O-O,e4,dxe4,dxe4,Bc5+,Kh1,Bxf3,Nxf3,Nxe4,Nxe5,Nxe5,Bxe5,Nf2+,Rxf2,Bxf2', 'Bg4,h5,Bxd7+', 'https://lichess.org/training/WS8Fr');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 37;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet38 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wS97V', 'Rapid', 'Popo2008', 2034, 'Louis13', 2093, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,d3,Bg4,f3,Bf5,Bd2,Nbd7,h4,h5,Qe2,O-O-O,O-O-O,e6,Kb1,Nb6,Nb5,Qa6', 'Nd6+,Bxd6,Bxa6', 'https://lichess.org/training/wS97V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WSa8w', 'Rapid', 'TaylonRC', 1738, 'junaidi', 1657, 'e4,e5,Nf3,Nf6,Bc4,d5,exd5,Bc5,Nxe5,Qd6,Bb5+,c6,dxc6,Qxe5+,Kf1,bxc6,Ba4,O-O,c3,Bb6,d4,Qf5,Bc2,Ba6+,Kg1,Qe6,Bg5,Ng4,h3,Be2,Qd2,Nf6,Bxf6,gxf6,Na3,c5,Qh6,Rd8,Qxh7+,Kf8,Bf5,Qd6,Nc4,Bxc4,dxc5,Bxc5,Qh8+,Ke7,Re1+,Be6,Rxe6+,fxe6', 'Qg7+,Ke8,Bg6#', 'https://lichess.org/training/WSa8w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wsahE', 'Rapid', 'ALEN2011', 1675, 'maraton81', 1816, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,Nc6,Bd2,Bg4,Ne4,Qf5,Nxf6+,exf6,Be2,O-O-O,c3,Re8,O-O,Qh5,h3,Bxh3,gxh3,Qxh3,Nh2,h5,Bf3', 'Bd6,Bg4+,hxg4', 'https://lichess.org/training/wsahE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wsAKU', 'Rapid', 'AkifKlbyv', 1814, 'ChaudFontaine', 1833, 'd4,Nf6,c4,g6,Bg5,Bg7,e3,O-O,Nf3,Ne4,Bd3,Nxg5,Nxg5,e5,d5,Qxg5,O-O,e4,Bc2,Bxb2,Nd2,Bxa1,Nxe4,Qe5,f4,Qb2,f5,d6,fxg6,fxg6,Rxf8+,Kxf8,Qf3+,Bf5,g4,Qxc2,gxf5,Nd7,fxg6+,Kg7', 'Qf7+,Kh8,Qxh7#', 'https://lichess.org/training/wsAKU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WsAPP', 'Classical', 'will116', 1626, 'antomen', 1657, 'e4,c6,Nf3,d5,e5,c5,d4,cxd4,Qxd4,Nc6,Bb5,a6,Bxc6+,bxc6,Nc3,e6,Bg5,Qa5,O-O-O,Ne7,Qa4,Qc7,Kb1,Ng6,Rhe1,h6,Be3,Be7,g3,Bd7,h4,O-O,h5,Nxe5,Bf4,c5,Bxe5,Bd6,Qg4,Bxe5,Nxe5,f5,Qe2,Bc8,Ng6,Rf7,Ne5,Re7,Ng6,Rf7,Na4,Qa5,b3,Rb8,Qe3,c4,Qe5,Rbb7,Kc1,Qb4,c3,Qa3+,Nb2,Qxa2,Qd6,Rbd7,Qc6,Bb7,Qxe6,Rd8,Qe8+,Rf8,Qe6+,Kh7,Nxf8+,Rxf8,Qg6+,Kh8,Re7,Rg8,Rde1,cxb3,Rxg7', 'Qa1+,Kd2,Qxb2+', 'https://lichess.org/training/WsAPP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wSB2U', 'Rapid', 'mesutt_01', 1778, 'Gr33nAppl3s', 1720, 'e4,e5,c3,d5,exd5,Qxd5,d4,Nf6,Be3,Nc6,c4,Bb4+,Nc3,Qa5,d5,Bxc3+,bxc3,Qxc3+,Bd2,Qd4,dxc6,Ne4,Be3,Qc3+,Bd2', 'Nxd2,Qxd2,Qxa1+', 'https://lichess.org/training/wSB2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wSBFq', 'Rapid', 'twistedsnake', 1976, 'proctovladimir', 2061, 'b3,e5,Bb2,d6,e3,Nf6,c4,Nc6,d4,exd4,exd4,Qe7+,Qe2,Bg4,Qxe7+,Bxe7,Be2,O-O-O,Bxg4+,Nxg4,h3,Nf6,Nf3,Rhe8,O-O,d5,c5,Ne4,Nc3,Nxc3,Bxc3,Bf6,Rfe1,Kd7,b4,a6,a4,Rxe1+,Rxe1,Re8,Ne5+,Nxe5,dxe5,Be7,f4,a5,f5,axb4,Bxb4,b6,e6+,Kc6', 'exf7,Bxc5+,Bxc5', 'https://lichess.org/training/wSBFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wScOe', 'Rapid', 'BraastadXO', 1904, 'karelVV', 1813, 'c4,e6,Nc3,b6,e4,h6,d4,Bb7,d5,e5,a3,d6,b4,a6,Nge2,Nf6,g3,Be7,Bg2,Nbd7,O-O,O-O,f4,Nh7,fxe5,Nxe5,Qb3,Bf6,Bb2,Nd3,Nd1,Nxb2,Nxb2,Bc8,h3,Qe7,Rae1,Ng5,Nf4,Be5,Nbd3,Bd7,Kh2,a5,Nxe5,Qxe5,Nd3,Qe8,b5,Qc8,Nf4,Qd8,e5,Be8,h4,Nh7,e6,fxe6,Nxe6,Rxf1,Rxf1,Qe7,Qd3,Nf6,Re1,Bf7,Bh3,Rf8,Re2,Re8,Nf4,Qf8,Rxe8,Qxe8,Ne6,Qe7,Qe3,Nd7,Qe4,Nc5', 'Nxc5,Qxe4,Nxe4', 'https://lichess.org/training/wScOe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WSdYV', 'Rapid', 'Electric_Max', 1663, 'bizkarrondo', 1728, 'd4,Nf6,c4,e6,Nc3,d5,e3,c6,Bd3,dxc4,Bxc4,Bd6,Nge2,O-O,O-O,Nbd7,h3,e5,dxe5,Nxe5,Bb3,Ng6,Qc2,Kh8,a3,Nh5,g4,Nf6,Rd1,Qc7,Ne4,Bh2+,Kh1,Nxe4,Qxe4,Bd6,Bc2,Bd7,b4,Rae8,Qd3,Be5,Rb1,Bc8,f4,Rd8,Qe4,Rxd1+,Bxd1,Bd6,Bb2,h6,Qd4,f6,Bc2,Ne7,Ng3,Be6,Rd1,Nc8,Nf5,Bxf5,Bxf5,c5,bxc5,Bxc5,Qc4,Qc6+,Be4,Qb6,Bd4,Nd6,Qd5,Nxe4,Qxe4,Rd8,g5,Bxd4,Rxd4,Rxd4', 'Qe8+,Kh7,g6#', 'https://lichess.org/training/WSdYV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WSEwI', 'Blitz', 'ardi2', 1775, 'inemuri', 1722, 'd4,Nf6,c4,e6,Bg5,h6,Bh4,Bb4+,Nc3,c5,a3,Bxc3+,bxc3,cxd4,cxd4,Qa5+,Qd2,Qxd2+,Kxd2,g5,Bg3,Ne4+,Kd3,f5,f3,Nxg3,hxg3,b6,Nh3,g4,Nf4,Kf7,Rh5,Ba6,e3,d5,Kc3,dxc4,Bxc4,Bxc4,Kxc4,Nd7,Kd3,Rac8,fxg4,Nf6,Rhh1,Nxg4,Rhc1,Nf2+,Ke2,Ne4,Kd3,Nxg3,a4,h5,a5,Kf6,axb6,axb6,Rxc8,Rxc8,Rb1,Rb8,Rb5,h4,Ne2,Ne4,Nf4,Nd6,Rb1,b5,Rh1,b4,Kc2,Nc4,Rxh4,b3+,Kb1,b2,Rh6+,Kg5', 'Rg6+,Kh4,g3#', 'https://lichess.org/training/WSEwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wSgDI', 'Classical', 'gustavotexas', 1969, 'barvevirar', 1969, 'e4,c5,Bc4,e6,Nc3,a6,a4,Nc6,Nf3,Nf6,e5,Ng4,Qe2,Qc7,O-O,Ngxe5,Nxe5,Nxe5,d3,d5,Bxd5,exd5,f4,Be6,fxe5,Be7,Qh5,O-O-O,Bd2,f6,Bf4,fxe5,Bxe5,Bd6,Rae1,Rhe8,Nxd5,Bxd5', 'Bxd6,Rxe1,Bxc7', 'https://lichess.org/training/wSgDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WshfT', 'Rapid', 'subgradient', 2024, 'niklas456', 2096, 'd4,d5,c4,dxc4,Nf3,Nf6,e3,Bf5,Bxc4,e6,Nc3,Bb4,Qa4+,Nc6,Ne5,Bxc3+,bxc3,a6,Nxc6,Qd7,Qb4,Qxc6,Ba3,O-O-O,f3,Nd5,Bxd5,exd5,O-O,Bd3,Rfe1,Bc4,e4,Rde8,e5,h5,Qc5,Qd7,Rab1,Re6', 'Qa7,Qc6,Qa8+,Kd7,Qxh8', 'https://lichess.org/training/WshfT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WSjdA', 'Rapid', 'HansKyuuu', 2016, 'Ratatouilla', 1990, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,Nc6,O-O,O-O-O,d4,Nf6,Be3,e5,Nxe5,Nxe5,Bxg4+,Nexg4,Ne4,Nxe3,fxe3,Nxe4,Qg4+,f5,Rxf5,h5,Qh3,Qxf5,Qxf5+,Kb8,Qxe4,Bd6,c4,Rhe8,Qf3,g6,c5,Bf8,Rc1,Bh6,Rc3,Rd7,c6,Rde7,cxb7,Bxe3+,Rxe3,Rxe3,Kf2,R3e6,h3,Rd6,d5,Rb6,Qf7,Rxb2+,Kg1,Re1+,Kh2,Ree2,Qxg6,Rxa2,d6', 'Rxg2+,Qxg2,Rxg2+,Kxg2,cxd6', 'https://lichess.org/training/WSjdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WsLFq', 'Rapid', 'ChayanChik', 1765, 'vpetkov', 1760, 'e4,e5,Bc4,Nf6,d4,exd4,e5,d5,exf6,dxc4,Bg5,gxf6,Bh4,Be7,Nf3,Nc6,O-O,Be6,Re1,Qd7,a4,Rg8,Bg3,O-O-O,a5,a6,c3,d3,Nbd2,Bg4,Qa4,Bd6,Qxc4,Bxg3,hxg3,Rge8,Nd4,Ne5,Qc5,Kb8,b4,Nc6,Rxe8,Rxe8,b5,Nxd4,cxd4,Qxb5,Qc3,Be2,Rb1,Qd7,Qb3,Qc6,Qxf7,Qe6,Qxh7,f5,Nb3,Bg4,Nc5,Qc6,Rxb7+,Qxb7,Nxb7,Kxb7,Qh6,Re2,f3,d2,d5,d1=Q+,Kh2,Re1,Qc6+,Kc8,Qxa6+,Kd8,Qf6+,Kd7,Qc6+,Kd8,Qf6+,Re7,fxg4,fxg4,a6,Qa4,d6,cxd6,Qxd6+,Qd7,Qb8+,Qc8,a7,Rb7', 'Qxc8+,Kxc8,a8=Q+', 'https://lichess.org/training/WsLFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WSmLg', 'Rapid', 'saman989', 1851, 'Herra1979', 1921, 'e4,e5,Nf3,Bc5,Bc4,d6,d3,Nf6,O-O,Bg4,a3,Nc6,b4,Bb6,Nbd2,a6,Bb2,Qd7,Qe1,Nd4,Bxd4,Bxd4,Nxd4,exd4,f3,Be6,Bxe6,fxe6,Nb3,e5,c3,Qa4,Qd1,dxc3,Qc2,O-O,Qxc3,Nh5,Nd2,Qd7,Rf2,Qe7,Nf1,Nf4,Ng3,c6,Nf5,Rxf5,exf5,Rf8,Qc4+,Kh8,g3,Nh3+,Kg2,Nxf2,Kxf2,Rxf5,Re1,h6,f4,Qf6,Kg2,exf4', 'Re8+,Kh7,Qg8+,Kg6,Re6', 'https://lichess.org/training/WSmLg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WsmyM', 'Rapid', 'caguertti', 1831, 'spukul', 1882, 'd4,f5,c4,Nf6,Nc3,b6,Nf3,Bb7,h3,e6,Bg5,Be7,e3,h6,Bxf6,Bxf6,Be2,O-O,O-O,d5,Rc1,Nd7,a3,c5,cxd5,exd5,dxc5,Nxc5,b4,Ne4,Nxe4,dxe4,Nd2,Bb2', 'Qb3+,Kh7,Qxb2', 'https://lichess.org/training/WsmyM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wsn01', 'Blitz', 'kawliflower', 1820, 'Oscarbarraza', 1732, 'c4,e5,Nc3,Nc6,Nf3,d6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,Qd3,Bf5,e4,Be6,g3,Nh6,Bg2,Ng4,Nd5,Bxd5,exd5,Qxf2+,Kd1,Qxg2,Re1+,Ne5,Qf5,Be7,Bf4,Qf3+,Kc2,f6,h4,g6,Qe6,Qd3+,Kc1,Qxc4+,Kd2,Nf3+,Ke3,Nxe1,Rxe1,f5,Kf3,Qd3+,Kg2,Kd8,Qxe7+,Kc8', 'Qe6+,Kb8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/Wsn01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wSNf5', 'Blitz', 'marosino', 1697, 'cavaleirobranco', 1554, 'd4,d5,c4,dxc4,Nc3,Nc6,Nf3,Bf5,e4,Bg4,Bxc4,Bxf3,Qxf3,Nf6,e5,Nxd4,Qf4,Nc2+,Ke2,Nxa1,exf6,exf6,Re1,Nc2,Rd1,Qe7+,Kf1,Qc5,Qe4+,Be7,Nd5,Rd8,Bb5+,Qxb5+,Kg1,Qc5,Be3,Nxe3,fxe3,c6', 'Nc7+,Kf8,Rxd8+,Bxd8,Qe8#', 'https://lichess.org/training/wSNf5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WSNJy', 'Classical', 'EmirArif', 1763, 'nantek1955', 1739, 'd4,b5,e4,Bb7,d5,b4,c3,a5,Bd2,Nf6,Qc2,bxc3,Nxc3,c6,dxc6,Bxc6,Bb5,e6,Bg5,Be7,Nf3,O-O,e5,Nd5,Bxe7,Nxe7,Bxc6,Nbxc6,Rd1,Ng6,Qe4,Qc7,Rd6,Ngxe5,Rxc6,Nxf3+,Qxf3,Qe5+,Qe4,Qxe4+,Nxe4,dxc6,O-O,Rac8,Rc1,Rfd8,Kf1,Rd4,Nc5,Rd2,Rb1,Rc2,Ne4,h6,Nc3,Rd2,Ke1,Rdd8,Rc1,e5,Ne4,f5,Nc5,e4,Ke2,Rd5,Ke3,Rcd8,Nb7,Rd3+,Ke2,Rd2+,Ke1,R8d7,Rxc6,Rxb7,Kxd2,Rxb2+,Ke3,Rxa2,Rc5,a4,Rxf5,Rb2,Kxe4,a3,Ke3,a2,Ra5,Kf7,Ra6,g6,h4,h5,g3,Kg7,f3,Kh6,Ra4,Rg2,Kf4,Rd2,g4', 'Rd4+,Rxd4,a1=Q', 'https://lichess.org/training/WSNJy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WsohG', 'Blitz', 'NEKI_NOVI_KLINAC', 2479, 'zsizsi99pecz', 2538, 'e4,e5,Nf3,Nc6,Nc3,Nge7,d4,exd4,Nxd4,Nxd4,Qxd4,Nc6,Qd1,Bc5,Be3,Bxe3,fxe3,d6,Bd3,Ne5,O-O,O-O,Qe2,c6,Rf2,Bg4,Qd2,Qb6,Raf1,Qxb2,h3,Be6,Ne2,Nxd3,Qxd3,Qxa2,Qxd6,Qxc2,Nd4,Qxe4,Rf4,Qxe3+,Kh1,Rad8,Qe7,Rxd4,Rxf7,Rxf7', 'Qe8+,Rf8,Qxf8#', 'https://lichess.org/training/WsohG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WsPuf', 'Classical', 'jst007', 2021, 'walledmq', 1717, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Bc5,c3,Nf6,d4,exd4,cxd4,b5,Bb3,Bb6,O-O,O-O,e5,Ne8,Bg5,Ne7,Qd3,h6,Bc2,f5,exf6,Nxf6,Bxf6,Rxf6,Qh7+,Kf7,Ne5+,Ke6,Qe4,d5,Bb3,Kd6,Qe1,Bxd4,Nf3,Bxb2,Nc3,Bxa1,Qe5+,Kc5,Rxa1,Rxf3,gxf3,Qd6', 'Ne4+,Kb6,Nxd6', 'https://lichess.org/training/WsPuf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wSt2g', 'Rapid', 'Artur129', 1755, 'Kumanda01', 1864, 'e4,e6,Nf3,d5,d3,c5,e5,d4,c3,Nc6,cxd4,Nxd4,Nxd4,Qxd4,Nc3,Qxe5+,Be2,Bd6,Qa4+,Bd7,Qg4,Qf6,Bg5,Qg6,h4,h5,Qf3,Bc6,Qh3,f6,Qxe6+,Be7,Be3,Qf7,Qh3,Bd7,Qf3,O-O-O,O-O,Nh6,Rac1,Kb8,Nd5,Bg4,Qf4+,Bd6,Qe4,Bxe2,Rfe1,Rhe8,Qc4,Bg4,b4,Be6,Bf4,Bxf4', 'Qxf4+,Ka8,Nc7+,Qxc7,Qxc7', 'https://lichess.org/training/wSt2g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wStWA', 'Classical', 'LazyPeon', 1954, 'yodjo', 1817, 'd4,Nf6,Bf4,g6,Nc3,d5,Nf3,Bg7,Qd2,Ne4,Nxe4,dxe4,Ne5,Bxe5,Bxe5,f6,Bg3,Be6,e3,c6,Be2,Nd7,h4,Nb6,b3,a5,h5,g5,h6,g4,Rh4,Rg8,Bf4,Nd5,f3,gxf3,gxf3,Rg1+,Bf1,exf3,O-O-O,Nxf4,Rxf4,a4,d5,Bxd5,Rd4,e5,Rxd5,cxd5', 'Bb5+,Kf7,Rxg1', 'https://lichess.org/training/wStWA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WsU8E', 'Classical', 'Hosseinamator', 1833, 'albirto', 1803, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d6,d4,cxd4,Nxd4,Nf6,Re1,e5,Nxc6,bxc6,Nc3,Be7,Kh1,Qb6,f3,Qd8,a3,h5,f4,Bg4,Be2,Qb6,Rb1,Qc7,Bf3,O-O-O,Qe2,a5,Qa6+,Kd7,Na4,Rb8,Bd2,Qb7,Qxa5,Bd8,Qc3,Bxf3,gxf3,Qb5,b3,Ba5,Qd3', 'Qxd3,cxd3,Bxd2', 'https://lichess.org/training/WsU8E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wSUBl', 'Blitz', 'GM Lunaticxxx', 2793, 'IM Yarebore', 2807, 'e4,e6,d4,d5,Nd2,a6,Ngf3,Nf6,Bd3,c5,e5,Nfd7,c3,Nc6,O-O,g5,dxc5,Bg7,Nb3,g4,Bg5,Qc7,Nfd4,Ncxe5,Re1,O-O,Bc2,Nxc5,Nxc5,Qxc5,Rxe5,Bxe5,Qxg4,f5,Qh4,Bd7,Be7,Qc7,Bxf8,Rxf8,Re1,Qd6,Qg5+,Bg7,Nf3,Kh8,Qg3,Qb6,Bb3,a5,Ne5,Be8,Re2,a4,Bd1,a3,b4,Qc7', 'Ng6+,Bxg6,Qxc7', 'https://lichess.org/training/wSUBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WsUGR', 'Rapid', 'alersong', 1743, 'SachoAgainstYou', 1818, 'd4,c6,e4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,h5,h4,Nf6,Be2,e6,Bg5,Bd6,Ne5,Bxe5,dxe5,Qa5+,c3,Qxe5,f4,Qe3,f5,Qxg3+,Kd2,Bxf5,Bxf6,gxf6,Bxh5,Qxg2+,Kc1,Rxh5,Rg1,Qe4', 'Rg8+,Ke7,Qd8#', 'https://lichess.org/training/WsUGR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WsuW0', 'Classical', 'iavuru', 1705, 'nonsochenome', 1740, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,Nc3,h6,O-O,Nf6,Be3,Nd4,Nxd4', 'exd4,Bd2,dxc3', 'https://lichess.org/training/WsuW0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wSVnH', 'Rapid', 'E_Onegin', 1871, 'gmp777', 1817, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Nxe5,Nxe5,d4,Nc6,d5,Nb4,e5,Qe7,f4,d6,a3,Bg4,Qd2,Na6,Bxa6,bxa6,O-O,dxe5,fxe5,Qc5+,Kh1,Nxd5,Nxd5,Rd8,Qf4,Be6,Nc3,Be7,Be3,Qc6,Bxa7,O-O,Ne4,Bd5,Rae1,Qxc2,Rf2,Qc4,Rfe2,Ba8', 'Nf6+,Bxf6,Qxc4', 'https://lichess.org/training/wSVnH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WsVnt', 'Rapid', 'house99', 1652, 'supermik', 1754, 'e4,e5,Nf3,d6,Bc4,Nc6,d4,f6,dxe5,fxe5,Qd5,Qe7,Bb5,Bd7,Bg5,Nf6,Bxf6,gxf6,Nc3,O-O-O,O-O-O,a6,Ba4,Kb8,Kb1,Nb4,Qb3,Bxa4,Qxb4,Bc6,Rhe1,Rg8,g3,Qf7,Nd2,f5,Qb3,Qxb3,Nxb3,fxe4,Nxe4,Be7,Na5,Bd7,Nc3,Bg4,Rd3,Rgf8,Nd5,Bg5,Rb3,Bc8,Rc3,Bd2,Nc6+,bxc6,Rb3+,Ka7,Ne7,Bxe1', 'Nxc6+,Ka8,Rb8#', 'https://lichess.org/training/WsVnt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WSvo0', 'Blitz', 'doxingsox', 1701, 'bou7a1994', 1690, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,h6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,O-O,Qxc6,Re1,Bb7,Bd5,Qb6,Qe2,Bxd5,exd5+,Ne7,Nc3,O-O-O,Ne4,Nxd5,Nxc5,Qxc5,Be3,Nxe3,Qxe3,Qxc2,Qa7,Qc6,Rac1,Qb7,Rxc7+,Qxc7', 'Qa8+,Qb8,Rc1#', 'https://lichess.org/training/WSvo0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WSWC7', 'Rapid', 'CoolCalc', 1867, 'artexa', 1889, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,g6,c3,Bg7,Nf3,Ne7,Be2,O-O,O-O,Bg4,h3,Bxf3,Bxf3,c5,Bg5,Nbc6,Bxe7,Qxe7,Re1,Ne5,Nd2,Nxf3+,Nxf3,b5,Qd5,a5,Rad1,Rfd8,Re2,Ra7,Rde1,b4,Qc4,bxc3,bxc3,Qe6,Qa4,Bxc3,Ng5,Qd7,Qd1,Bxe1,Rxe1,a4,a3,Rb8,e5,d5,Qf3,d4,e6,fxe6,Rxe6,Rb3,Qf4,Rb1+,Kh2,Qc7', 'Re8+,Kg7,Ne6#', 'https://lichess.org/training/WSWC7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wswjO', 'Rapid', 'MrMujahid007', 1724, 'Stan_Holmes', 1705, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,Qf3,Nf6,d3,Bg4,Qf4,e5,Qg5,h6,Qe3,d4,Qg3,Bd6,h3,e4,Bf4,Nh5,Qxg4,Nxf4,g3,h5,Qxg7,Kd7,Qxf7+,Kc8,gxf4,Rf8,Qe6+,Kc7,Ne2,e3,fxe3,dxe3,Rg1,Qh4+,Kd1,Bxf4,Nbc3,Bh2,Re1,Qf2,Ne4,Qf1,Qg6,Rf2,Qxh5,Raf8,Be6', 'Qxe1+,Kxe1,Rf1#', 'https://lichess.org/training/wswjO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wSXCj', 'Classical', 'Zvezdan07', 1784, 'rjant', 1729, 'e4,Nf6,e5,Nd5,d4,d6,Bc4,Nb6,Qe2,Nxc4,Qxc4,Nc6,Qa4,Bd7,exd6,cxd6,Nf3,e6,O-O,Be7,Be3,O-O,Qb3,Na5,Qd3,a6,Nbd2,Bb5,c4,Bc6,b4,Bxf3,Nxf3,Nc6,a3,Rc8,d5,exd5,cxd5,Ne5,Nxe5,dxe5,Rfd1,Bd6,Qe4,Qf6,Qg4,b5,Bg5,Qg6,h3,Rc4,Qg3,Rfc8,Qe3,Rc3,Qb6,h6,Be3,e4,Qxa6', 'Bh2+,Kxh2,Qxa6', 'https://lichess.org/training/wSXCj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wsyU2', 'Blitz', 'RUa', 1599, 'atorralba', 2213, 'd4,d5,e3,c5,c3,Nc6,Qc2,Nf6,Nf3,Bg4,Be2,e6,h3,Bh5,b3,Bd6,Bb2,O-O,Nbd2,Bg6,Bd3,e5,Bxg6,hxg6,dxe5,Nxe5,c4,d4,exd4,Nxf3+,gxf3,Re8+,Kd1,cxd4,Qd3,Bc5,Kc2,a5,a4,Rc8,Ne4,Be7,Rad1,Nd5,Qxd4,Nb4+,Kb1,Qxd4,Rxd4,f5,Ng3,Bf6,Rd2,Bg5,Re2,Rxe2,Nxe2,Re8,Nd4,Bf6,h4,Nd3,Rd1,Nxb2,Kxb2,Rd8,Kc3,Bxh4,Rd2,Bf6,f4,g5,fxg5,Bxg5,Rd3,Bf6,f4,Kh7,c5,Kh6,Kc4,Kh5,c6,bxc6,Nxc6,Rxd3,Kxd3,Kg4,Nxa5,Kxf4,Nc4,g5', 'a5,Be7,a6,Bc5,b4', 'https://lichess.org/training/wsyU2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WSzav', 'Rapid', 'MrShooko', 1674, 'ruzgart3', 1682, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Bg4,d3,c6,Bg5', 'Bxf3,Qxf3,Qxg5', 'https://lichess.org/training/WSzav');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wt0VS', 'Blitz', 'Sedum', 2110, 'Lilfame', 2101, 'e4,c5,d4,cxd4,Nf3,Nc6,c3,e6,Bd3,d5,e5,dxc3,Nxc3,a6,O-O,Qc7,Re1,Nge7,Bf4,Ng6,Bg3,Bc5,Ng5,O-O,Qh5,h6,Nxf7,Qxf7,Qxg6,Qxg6,Bxg6,Bd7,Rac1,b6,Na4,Bd4,Rcd1,b5,Nc3,Bxc3,bxc3,Na5,Bd3,Nc4,Bxc4,bxc4,Rb1,Rab8,f3,Rb5,a4,Rxb1,Rxb1,Bxa4,Rb6,Re8,Rxa6,Bc2,Bf2,Bf5,Bc5,Kf7,Ra7+,Kg6,g4,Bd3,Kf2,Rb8,Bb4,Re8,Ke3,h5,h3,hxg4,hxg4,Kh6,f4,g6,Kf3,Bc2,Ba3,Bd1+,Kg3,g5,f5,exf5,gxf5,Rxe5', 'Bf8+,Kh5,Rh7#', 'https://lichess.org/training/wt0VS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wT2D1', 'Blitz', 'MTBY', 1725, 'Richmondpunk', 1695, 'd4,d5,c4,e6,Nf3,c6,e3,Bd6,Nc3,Nf6,b3,Nbd7,Bb2,O-O,cxd5,exd5,Bd3,Re8,O-O,Nf8,Re1,Ne4,Qc2,Qe7,Nd2,Nf6,e4,Bxh2+,Kxh2,Ng4+,Kg1,Qh4,Nf3,Ng6,exd5,Qd8,Rxe8+,Qxe8,Bxg6,hxg6,Re1,Qd7,Ne4,cxd5,Nc5,Qc7,g3,Bf5,Qe2,f6,Nh4,Kf7,Nxf5,gxf5,Qe6+,Kg6,Qxd5,Rh8,Qxb7,Qa5,Re7,Rh7,Qg2,Qd2,f3,Qd1+,Qf1', 'Rh1+,Kxh1,Qxf1#', 'https://lichess.org/training/wT2D1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wt2Qw', 'Rapid', 'Maascovitz', 1693, 'armkbr', 1668, 'e4,e6,Nf3,d5,e5,Nd7,d4,c5,Bb5,c4,Nc3,Bb4,O-O,h6,Ne2,a6,Bxd7+,Bxd7,c3,Ba5,b4,Bb6,a4,Ne7,a5,Ba7,Nf4,O-O,Nh4,Nf5,Nxf5,exf5,Nxd5,Be6,Nf4,g5,Nh5,Kh7,Nf6+,Kg7,Qh5,Rh8,Re1,Bxd4,cxd4,Qxd4,Bxg5,hxg5,Qxg5+,Kf8,Rad1,Qc3,h4,Qxb4,h5,c3,h6,Qxa5,h7,c2,Ng8,Rxh7,Ra1,Qc3,Nh6,Rg7,Qf6,Bd5', 'Qd6+,Ke8,Qxd5,Qc6,Qxc6+', 'https://lichess.org/training/wt2Qw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wt3sE', 'Rapid', 'Axp156', 1980, 'kas-cengiz', 1903, 'e4,g6,d4,Bg7,Nc3,b6,Bc4,Bb7,f4,d6,Nf3,Nd7,O-O,e5,fxe5,dxe5,Ng5,Ngf6,Nxf7,Qe7,Nxh8,Bxh8,dxe5,Nxe5,Bg5,Nxc4,Qd4,Ne5,Rad1,h6,Bxh6,Nfg4,Nd5', 'Nf3+,gxf3,Bxd4+', 'https://lichess.org/training/wt3sE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WT6be', 'Rapid', 'Serge_Kalinovsky', 1770, 'hamato', 1801, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nf3,d5,e5,Nge7,Bd3,Qc7,Nc3,a6,a3,Ng6,O-O,Be7,Bg5,O-O,Bxg6,hxg6,Bxe7,Qxe7,Qd2,Bd7,Ng5,Rac8,Qe3,Na5,f4,Nc4', 'Qh3,Qxg5,fxg5', 'https://lichess.org/training/WT6be');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wt80q', 'Classical', 'bxscvv', 1677, 'Loren79', 1638, 'd4,Nf6,c4,d5,Nc3,e6,Bg5,g6,e4,dxe4,Nxe4,Bg7,Qf3,Nbd7,Bxf6,Nxf6,Rd1,b6', 'Nxf6+,Bxf6,Qxa8', 'https://lichess.org/training/Wt80q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wt96l', 'Blitz', 'FM Godzillator', 2484, 'Sammeister', 2420, 'd4,Nf6,c4,g6,Nc3,d6,e4,Bg7,Be2,O-O,Bg5,Na6,f4,c6,Qd2,Qa5,e5,dxe5,fxe5,Nd7,Nf3,f6,exf6,exf6,Bf4,Re8,O-O,Nf8,Rae1,Bg4,h3,Bxf3,Bxf3,Ne6,Be3,Rad8,d5,f5,Qf2,cxd5,cxd5,Nec5,Bg5,Nd3,Rxe8+,Rxe8,Qxa7,Qb4,d6', 'Bd4+,Qxd4,Qxd4+', 'https://lichess.org/training/wt96l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wtbjM', 'Rapid', 'F1234_fahri', 1793, 'Nikhilkhar', 1784, 'c4,d5,e3,dxc4,Bxc4,Bf5,Qb3,Be6,Qxb7,Nd7,Bxe6,fxe6,Qc6,Nf6,Qxe6,g6,Nc3,Bg7,Nf3,Nc5,Qc6+,Ncd7,Ne5,Rb8,Nxd7,Nxd7,Qe6,Rb6,Qd5,Rd6,Qc4,Nb6,Qb3,Bxc3,Qxc3,Rf8,f4,e6,O-O,Nd5,Qg7,Qh4,b3,Nf6,Qxc7,Rd7,Qb8+,Kf7,Qe5', 'Ng4,f5,Nxe5', 'https://lichess.org/training/wtbjM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WTd7P', 'Rapid', 'ANismanLoMataron', 2090, 'yo_an77', 1801, 'e4,b6,Nc3,Bb7,Nge2,e5,d4,exd4,Nb5,c5,Bf4,a6', 'Nc7+,Qxc7,Bxc7', 'https://lichess.org/training/WTd7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wtDni', 'Rapid', 'DerSchleimigeWilli', 1628, 'Palli_ashok', 1658, 'e4,e5,Nf3,Nf6,Nc3,Bc5,a3,O-O,b4,Bb6,Nd5,Nxd5,exd5,d6,d4,Bg4,dxe5,Re8,e6,fxe6,dxe6,Rxe6+,Be3,Qf6,Bc4,Bxe3,fxe3', 'Qc3+,Kf2,Qxc4', 'https://lichess.org/training/wtDni');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wtEG2', 'Rapid', 'ivanhoe007', 1840, 'serefhanov', 1899, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Bc4,e6,Nxc3,Bb4,O-O,Nge7,Bb3,O-O,Bg5,a6,Ne2,h6,Bh4,Qb6,Ned4,Ng6,Bg3,Bc5,Ne2,Rd8,Bc2,d5,exd5,Rxd5,Qb1,Nf8,Nf4,Rd8,Nh4,g5,Nh5,gxh4,Bxh4,Be7,Bxe7,Nxe7,Nf6+,Kg7,Nh5+,Kh8,b3,Qd4', 'Rd1,Qxd1+,Bxd1', 'https://lichess.org/training/wtEG2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wtEWw', 'Rapid', 'rosoha', 1804, 'arzu_k', 1909, 'e4,e5,Bc4,Nc6,a3,Nf6,d3,Bc5,h3,O-O,Bg5,a6,Nf3,d6,Nc3,Na5,Ba2,c6,b4,Bd4,Qd2,c5,Rb1,cxb4,axb4,Bxc3,Qxc3,Nc6,O-O,h6,Be3,Qe7,Qd2,Bd7,Qc1,Rac8,Nh4,Kh7,Nf5,Bxf5,exf5,d5,Bc5,Qd7,Bxf8,Re8,g4,Rxf8,b5,Nd4,bxa6', 'Ne2+,Kg2,Nxc1', 'https://lichess.org/training/wtEWw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WTfag', 'Blitz', 'MOTA11', 2030, 'Azizzov', 2025, 'd4,e5,dxe5,d6,exd6,Bxd6,Nc3,Nc6,Nf3,Bf5,Bg5,f6,Bh4,Qe7,e4,O-O-O,Bd3,Bg4,O-O,Ne5,h3,Nxf3+,gxf3,Bxh3,Re1,Qe5,Bg3,Qg5,Kh2,Be6,Rg1,h5,Bxd6', 'Qh4+,Kg2,Qh3#', 'https://lichess.org/training/WTfag');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wtFAl', 'Rapid', 'thehighchessguy', 1623, 'mf_hasan', 1612, 'd4,Nf6,Bf4,g6,e3,Bg7,c3,d6,Nf3,O-O,Nbd2,Re8,Rc1,Nbd7,Nc4,c5,Be2,b5,Ncd2,a6,O-O,Bb7,Ne1,e5,Bg3,exd4,cxd4,cxd4,exd4,Qb6,Ndf3,Ne4,Nc2,Nxg3,hxg3,Qa5,a3,Qb6,Nb4,d5,Re1,a5,Nc2,b4,axb4,axb4,b3,Ra2,Bd3,Rxe1+,Qxe1,Kf8,Qe2,Ba6,Bxa6,Rxa6,Re1,Ra8', 'Qe7+,Kg8,Qxd7', 'https://lichess.org/training/wtFAl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wtGCd', 'Blitz', 'AlphaKing22', 2322, 'NM Alya_BudiCM', 2325, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Nxe4,Qxd4,Nf6,Nc3,c6,O-O,d5,Bd3,Be7,Bg5,O-O,Qh4,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/wtGCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WTgjJ', 'Rapid', 'martin0303', 2204, 'TheEqualiser', 2455, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bg4,Be2,Nc6,O-O,Bd6,h3,Bh5,Re1,Nge7,Bg5,f6,Be3,Qd7,c4,dxc4,Bxc4,O-O-O,d5,Bxf3,Qxf3,Ne5,Qe2,Nxc4,Qxc4,Kb8,Nc3,Be5,Nb5,a6,a4,Qxd5,Ba7+,Kc8,Qg4+,f5,Qb4,Nc6,Qa3,axb5,axb5,Bd6,Qe3,Nxa7,Rxa7,Rde8', 'Ra8+,Kd7,Rxe8', 'https://lichess.org/training/WTgjJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WTgLG', 'Rapid', 'eslam4', 1566, 'ruyuji197801', 1724, 'e4,d5,e5,e6,Nf3,Ne7,d4,Ng6,g3,Bb4+,c3,Ba5,b4,Bb6,Bg2,c6,O-O,O-O,Re1,Nd7,Nbd2,Bc7,Nb3,b6,a4,Bb7,a5,bxa5,Nxa5,Ba6,Nxc6,Qc8,Bf1,Bb7,Na5,Bxa5,Rxa5,Qxc3,Bd2,Qc7,Bg2,a6,Qe2,Nb6,Rc1,Nc4,Bf1,Qb6,Rxc4,dxc4,Qxc4,Bd5,Qc3,Rfc8,Qe3,Rc6,Bg2,Rac8,Bf1,Rc2,Rxa6,Qd8,Rd6,Qe7,Bd3,Rxd2,Nxd2,Rc3,Nb1,Qc7,Nxc3,Qxc3,Bxg6', 'Qa1+,Bb1,Qxb1+,Qe1,Qxe1#', 'https://lichess.org/training/WTgLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WTGrI', 'Blitz', 'siarczan6miedzi2', 1577, 'KaloyanHristovDanev', 1655, 'e4,e6,d4,c5,d5,Nf6,e5,Nxd5,Bc4,Nb6,Bb3,Qc7,Nf3,c4,Ba4,Nxa4,b3,cxb3,cxb3,Nc5,O-O,Nc6,Ng5,Nxe5,Bf4,Bd6,Bxe5,Bxe5,Qf3,O-O,Nc3,Bxh2+,Kh1,Bf4,Qh5,h6,Nh3,Be5,f4,Bf6,g4,e5,g5,hxg5,Nxg5,Bxg5,fxg5,Ne6,Rf5,g6,Nd5,Qc6,Qg4,gxf5,Qxf5,Qxd5+,Kh2,Ng7,Qf6,Qd4,Rg1,d6,g6,Qd2+,Kh1,Qd5+,Kh2,Nh5', 'gxf7+,Kh7,Qg6+,Kh8,Qxh5#', 'https://lichess.org/training/WTGrI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WTgx7', 'Rapid', 'wer_nice', 2012, 'sherlockholmes2415', 1974, 'e4,c5,f4,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qd1,Ng8,Nc3,f6,Nf3,fxe5,fxe5,Bg7,Bf4,e6,Bb5,Nh6,Bxh6,Bxh6,O-O,O-O,Ne4', 'Qb6+,Kh1,Qxb5', 'https://lichess.org/training/WTgx7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wtJ7v', 'Rapid', 'HOHAG45', 1925, 'TAMMAM_77', 1769, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nc6,a3,Nf6,Nc3,d5,e5,Ne4,Nxe4,dxe4,Bb5', 'Qa5+,b4,Qxb5', 'https://lichess.org/training/wtJ7v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WTjkG', 'Rapid', 'Horuss86', 1678, 'Posholi', 1773, 'e4,c5,Nc3,a6,Nf3,e6,d3,Nc6,a3,Nf6,h3,Be7,g3,O-O,Bg2,d5,exd5,exd5,O-O,Qc7,Bf4,Bd6,Bg5,d4,Bxf6,gxf6,Nd5,Qd8,Nh2,f5,Qh5,Kh8,Qh6,Rg8,Nf6,Rg7,Nf3,Be7,Nh5,Rg6,Qf4,Bd6,Qd2,Be6,Nh4,Rg5,Nf4,Qc7', 'Nxe6,fxe6,Qxg5', 'https://lichess.org/training/WTjkG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WtKFR', 'Rapid', 'Ichs', 1861, 'raju8', 1893, 'e4,e5,Nf3,Nc6,b3,Nf6,Bc4,Bc5,O-O,O-O,Re1,Re8,a4,a5,Bb2,d6,c3,Bg4,d4,exd4,cxd4,Bb4,Re3,Rxe4,Nbd2,Rxe3,fxe3,Bxd2,Qxd2,Bxf3,gxf3,d5,Bf1,Qe7,Re1,h6,Re2,Nb4,e4,dxe4,fxe4,Re8,e5,Nfd5,Rg2,Qe6,Bc1,c6,Qe2,Qf5,Rg3,Re6,Bh3,Qc2,Qxc2,Nxc2,Bxe6,fxe6,Bxh6,Kh7,Bxg7,Nxd4,Bf6', 'Ne2+,Kf2,Nxg3,Kxg3,Nxf6,exf6,Kg6,f7,Kxf7', 'https://lichess.org/training/WtKFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wtl3g', 'Rapid', 'caballodelrey2015', 1884, 'Dastin', 1928, 'c4,e5,Nc3,f5,d3,d6,e3,Nf6,Nge2,Be7,g3,O-O,Bg2,c6,b4,a6,O-O,Be6,a4,Qe8,Bb2,Qh5,Nc1,Qxd1,Rxd1,Nbd7,Nb3,Rab8,Na5,Bd8,Nxb7,Rxb7,Bxc6,Rc7,b5,Nb8,Ba3,Nxc6,Bxd6,Rd7,Bxf8,Kxf8,bxc6,Rc7,Nb5,Rxc6,Rdb1,axb5,axb5,Rc8,b6,Rb8,c5,Bd5,Ra7,Bb7,Kf1,Nd5,Rba1,Nb4,Rxb7,Rxb7,Ra7,Re7,b7,Bc7,Ra8+,Re8,Ke2,Nc6', 'Rc8,Ne7,Rxc7', 'https://lichess.org/training/wtl3g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTL7d', 'Rapid', 'schura', 2006, 'mnki', 2037, 'e4,e5,Nf3,d6,h3,h6,d4,exd4,Nxd4,Be7,Nc3,a6,Bc4,Nf6,O-O,O-O,Re1,Nbd7,Nf5,Ne5,Nxe7+,Qxe7,Bb3,Be6,Nd5,Nxd5,Bxd5,c6,Bb3,Qf6,f4,Qg6,f5,Qg3,fxe6,fxe6,Bxe6+,Kh8,Rf1,Rxf1+,Qxf1,Ng6,Bf5,Rf8,Qf2,Qe5,c3,d5,Qd4,Qg3,Bxg6', 'Qe1+,Kh2,Rf1', 'https://lichess.org/training/wTL7d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTpGB', 'Classical', 'hamed3652', 1693, 'Pinkiepou', 1742, 'e4,d5,h3,dxe4,Bc4,Nf6,d3,exd3,Ne2,dxe2', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/wTpGB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTPzd', 'Rapid', 'PRINCE1369', 1733, 'Arayik777', 1676, 'e4,e5,Bc4,d6,d3,Be7,Ne2,Nf6,f4,Nc6,f5,Bd7,h3,g6,Bh6,gxf5,Nbc3,fxe4,dxe4,Rg8,g4,Rg6,Qd2,Ng8,Be3,Bh4+,Bf2,Bxf2+,Kxf2,Qh4+,Ng3,Rf6+,Kg2,Nd4,Raf1,Rxf1,Rxf1,Be6,Nd5,O-O-O,Qa5,Bxd5,Bxd5,Kb8,Rxf7,Ne7,Qb4,Nxd5,exd5,Qg5,a4,Qg6,Rf2,Nxc2,Qd2,Nd4,b4,Qe8,b5,b6,Qh6,Qe7,Qh5,e4,Rf7,Qe8,Qxh7,Rc8,Nxe4,Qe5,Nf6,Qe2+,Kg3,Qe1+,Kf4', 'Qe5#', 'https://lichess.org/training/wTPzd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTqf0', 'Blitz', 'gorowitch', 1877, 'Tomahawk42', 1846, 'e4,c5,Nf3,d6,c3,Nf6,d3,g6,Qc2,Bg7,Be2,Nc6,Nbd2,O-O,Nf1,a6,Ng3,b5,h4,h5,Ng5,b4,Qd1,bxc3,bxc3,Ng4,Bxg4,Bxg4,f3,Bxc3+,Bd2,Bxa1,Qxa1,Bd7,f4,Nd4,O-O,Bg4,f5,Ne2+,Nxe2,Bxe2,Rf2,Bxd3,f6,exf6,Rxf6,Rb8,Qc3,c4,Be3,Qe7,Bd4,Bxe4,Qd2,Rb1+,Kh2,d5,Qf4,Qd7,Qe5,Qg4', 'Rxg6+,Bxg6,Qh8#', 'https://lichess.org/training/wTqf0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wtqUn', 'Rapid', 'Richards_Knights', 1747, 'sidhanta', 1733, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,d3,Nd6,Nxe5,Nxc4,dxc4,Bc5,O-O,O-O,Qf3,d6,Ng4,Nc6,Qg3,Bf5', 'Nh6+,Kh8,Nxf5', 'https://lichess.org/training/wtqUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTR7o', 'Rapid', 'Adi54', 1868, 'EbOtSA', 1867, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,c3,Nf6,Bg5,Be7,Nbd2,exd4,cxd4,Nxd4,Bxd7+,Nxd7,Bxe7,Nxf3+,Nxf3,Qxe7,O-O,O-O,Qb3,Nb6,Rae1,Qe6,Qc3,Rac8,e5,dxe5,Rxe5,Qc4,Qe3,Qc6,Rc5,Qe6,Re5,Qxa2,Ng5,Nc4,Qe4,Nxe5', 'Qxh7#', 'https://lichess.org/training/wTR7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTrID', 'Blitz', 'physicat', 1915, 'LordSterling', 1956, 'e4,e5,Nf3,Nc6,Bb5,g6,c3,a6,Ba4,d6,O-O,Bd7,d4,Bg7,Bg5,Nf6,Re1,O-O,Nbd2,h6,Bh4,Qe8,h3,Nxd4,Bxd7,Nxf3+,Qxf3,Nxd7,g4,Qe6,Nf1,f5,exf5,gxf5,g5,Qg6,Qg2,hxg5,Qxg5,Qxg5+,Bxg5,Rae8,f3,Nc5,Rad1,Bf6,Bxf6,Rxf6,Kf2,e4,f4,Rfe6,Ne3,Nd3+,Ke2,Nxe1,Rxe1,Rf8,Rg1+,Kh7,Rg5,Rg6,Rh5+,Rh6,Rg5,Rxh3,Nxf5,Rh2+,Ke3,d5,Nd4,c6,Ne6,Rf7,Rg1,Rh5,Ng5+,Rxg5,Rxg5,Rg7,Re5,Kg8,f5,Kf7,a4,Rg3+,Kf4,Rf3+,Kg5,e3,b4,e2,Rxe2,Rxc3,b5,axb5,axb5,Rc5,bxc6,bxc6,Re6,Rc1,Rf6+,Ke7,Rh6,Rg1+,Kf4,c5,Ke5,d4,Rh7+,Kd8,Kd6,c4', 'Rh8+,Rg8,Rxg8#', 'https://lichess.org/training/wTrID');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WtrXL', 'Rapid', 'Ya_bi_dunul', 1866, 'AhmetKaraalpp', 1788, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,Nf6,Re1+,Be6,Bb5+,Nd7,Bc6,Rb8,Qxd5,O-O,Rxe6,fxe6,Qxe6+,Rf7,Bd5,Qf6,Qxf7+,Qxf7,Bxf7+,Kxf7,Bf4,Rxb2,Bxc7,Bxf2+,Kxf2,Rxc2+,Ke3,Rxc7,Nd2,Ne5,Rf1+,Kg6,Ne4,Ng4+,Kd4,Nxh2,Rf4,h5,Nc5,Ng4,Ne6,Rd7+,Kc5,Rf7', 'Nf8+,Rxf8,Rxf8', 'https://lichess.org/training/WtrXL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTt3X', 'Blitz', 'madhesh24', 1775, 'AlphaZero_neo', 1968, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Nf3,Nc6,Bc4,Bg4,h3,Bh5,g4,Bg6,Bd3,e6,Be3,Be7,Qd2,Ne5,Nxe5,dxe5,O-O-O,O-O,g5,Nh5,h4,Qc7,Rdf1,Rfd8,f4,exf4,Bxf4,Nxf4,Qxf4,Qxf4+,Rxf4,Bh5,e5,b5,a3,Rac8,Rhf1,Bc5,Ne4,Be3+,Kb1,Bxf4,Rxf4,Bg6,Ng3,Bxd3,cxd3,Rxd3,Nh5,Rd1+,Ka2,Rc2,Rf3,Rdd2,Rb3,h6,gxh6,gxh6,Nf6+,Kg7', 'Rg3+,Kf8,Rg8+,Ke7,Re8#', 'https://lichess.org/training/wTt3X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTuG4', 'Rapid', 'PitonSnail', 1661, 'ProfeWelch', 1611, 'e4,c5,c3,d6,d4,cxd4,cxd4,e6,Nc3,Nf6,f4,d5,e5,Nfd7,g3,Bb4,Qc2,Qb6,Nf3,Nc6,Be3,a5,a3,Bxc3+,Qxc3,O-O,Bg2,f6,O-O,Qc7,Rfc1,Ra6,Bf1,Ra7,Bh3,Nb6,Bg2,a4,Qc5,Nc4,Rxc4,dxc4,Qxc4,Bd7,d5,exd5,Qxd5+,Kh8,Bxa7,Nxa7,Nh4,Rd8,Qxb7,Qc5+,Kh1,Qf2,Rf1,Bc6,Rxf2', 'Rd1+,Rf1,Rxf1#', 'https://lichess.org/training/wTuG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WtuN0', 'Rapid', 'pitros', 1703, 'AbsurdLotus', 1619, 'e4,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Nc6,f3,e5,Bb5,Ne7,Bxc6+,Nxc6,c3,Be6,Kc2,O-O-O,Be3,Kb8,Ne2,Bd6,Nd2,Rd7,g4,Rhd8,b3,g6,h4,f5,Bg5,Be7,Bxe7,Nxe7,gxf5,Rxd2+,Kc1,gxf5,exf5,Bxf5,Ng3,Bg6,h5,Nf5,Ne4,Re2,hxg6,hxg6,Nf6,Rdd2', 'Rh8+,Rd8,Rxd8#', 'https://lichess.org/training/WtuN0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WTUXP', 'Blitz', 'Dr-Anonymous', 1748, 'Deathplay', 1688, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,e3,O-O,Be2,Nbd7,O-O,b6,Bd2,Bb7,b4,Re8,a4,a6,a5,b5,cxb5,axb5,Bxb5,c6,Be2,e5,dxe5,dxe5,e4,c5,b5,Rxa5,Rxa5,Qxa5,Nd5,Qd8,Bc4,Nb6,Nxb6,Qxb6,Nxe5,Rxe5,Bc3,Re8,e5,Ne4,Bb2,Qc7,b6,Qxb6,Ba1,Bxe5,Qd7,Bc6', 'Qxf7+,Kh8,Bxe5+,Rxe5,Qf8#', 'https://lichess.org/training/WTUXP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTvOi', 'Rapid', 'prafultewari', 1724, 'chloramphenicol', 1617, 'e4,c6,d4,d5,e5,Qb6,a3,e6,Nc3,f6,Nf3,fxe5,Nxe5,Nf6,Be2,Bd6,O-O,c5,Be3,Nc6,Nxc6,bxc6,Na4,Qa5,Nxc5,O-O,b4,Qc7,h3,Ne4,Nxe4,dxe4,c4,Bf4,Qd2,e5,d5,Rf6,c5,Bxh3,gxh3,Rg6+,Kh1,Qd7,Bg4,Rxg4,hxg4,Qxg4,Bxf4,exf4,Rg1', 'Qh3#', 'https://lichess.org/training/wTvOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTvto', 'Blitz', 'dmskumar', 1868, 'FM ricaurte55', 2167, 'e4,e5,Nf3,d5,Nxe5,Bd6,d4,dxe4,Bc4,Bxe5,dxe5,Qxd1+,Kxd1,Nc6,Bf4,Nge7,Nc3,Ng6,Bg3,Ngxe5,Bb5,O-O,Bxc6,Nxc6,Nxe4,Bf5,Nd2,Rad8,Bxc7,Rd7,Bf4,Rfd8,c3,f6,Re1,g5,Be3,Ne5,Bd4,Nd3,Re3,Nxf2+,Ke2,Ng4,Rg3,Rxd4,cxd4,Rxd4,Nf3,Rc4,Rd1,h5,Nd2,Rc2,h3,Ne5,Rb3,b6,Ra3,a5,Rb3,b5,Rxb5', 'Bd3+,Ke3,Bxb5', 'https://lichess.org/training/wTvto');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTw7e', 'Rapid', 're-start', 1875, 'rubenbagratych', 2025, 'e4,c5,Bc4,e6,g4,a6,a4,b6,d3,Bb7,g5,d5,exd5,exd5,Bb3,Nc6,Nf3,Na5,Ba2,Bd6,O-O,Ne7,Re1,O-O,Ne5,Qc7,f4,Rad8,c3,Bxe5,fxe5,Ng6,d4,c4,Qg4,Bc8,Qg3,Ne7,h4,Nf5,Qh2,g6,Bf4,Qd7,h5,b5,axb5,axb5,Nd2,Ng7,h6,Nh5,Bb1,Qg4+,Kf1,Nb3,Nxb3,cxb3,Bc1,Qf3+,Qf2', 'Ng3+,Kg1,Qh1#', 'https://lichess.org/training/wTw7e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wtW8Q', 'Rapid', 'marcoschess2016', 1609, 'Lutek82', 1749, 'd4,Nf6,f3,d5,g4,Nc6,e3,e5,dxe5,Nxe5,f4,Nexg4,h3,Nh6,Nc3,Bb4,Bd2,O-O,Bd3,Bf5,Qe2,Ne4,Bxe4,Bxe4', 'Nxe4,Bxd2+,Nxd2', 'https://lichess.org/training/wtW8Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wTxNS', 'Blitz', 'IM Meysonn', 2700, 'kasparik_garik', 2632, 'd4,Nf6,Bg5,e6,e4,h6,Bxf6,Qxf6,c3,Nc6,Nd2,e5,d5,Nb8,Nb3,a5,a4,g6,h4,h5,Nf3,Bh6,d6,Qxd6,Qxd6,cxd6,Rd1,Ke7,Nfd2,d5,exd5,d6,Nc4,Nd7,Ncxa5,Nc5,Bb5,Bg4,f3,Nxb3,Nxb3,Bd7,Bxd7,Kxd7,Ra1,Rhc8,Ke2,Rc4,a5,f5,Nd2,Rc5,Nb3,Rxd5', 'c4,Rd4,Nxd4', 'https://lichess.org/training/wTxNS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WtXUN', 'Rapid', 'Arisandi', 1997, 'Davidclaros', 1868, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f4,Nc6,e5,dxe5,fxe5,Nxe5,Bb5+,Bd7,Bf4,Bxb5,Ncxb5,a6,Bxe5,axb5,Nxb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/WtXUN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WtzFT', 'Blitz', 'IM micfel', 2355, 'E4Sadiq', 1763, 'e4,Nc6,d4,e6,d5,exd5,exd5,Ne5,f4,Ng6,Nf3,Nf6,c4,Bc5,Qe2+,Qe7,Qxe7+,Nxe7,Bd3,O-O,Bd2,a5,Nc3,d6,O-O-O,Bd7,Rde1,Ng6,h3,Rfe8,g4,Rxe1+,Rxe1,Re8,Rxe8+,Nxe8,a3,c6,Kd1,Nc7,Ke2,Kf8,f5,Ne5,Nxe5,dxe5,Be4,cxd5,Nxd5,Nxd5,Bxd5,Bd4,b4,axb4,Bxb4+,Ke8,Bxb7,Ba4,Bd5,f6,c5,Kd7,h4,h6,Be6+,Kc6,Bf7,Bxc5', 'Be8+,Kd5,Bxa4', 'https://lichess.org/training/WtzFT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wu01y', 'Rapid', 'tristandomb', 1656, 'BlobbyFishgnar', 1602, 'd4,c5,dxc5,Qa5+,Nc3,Qxc5,e4,Nf6,Be3,Qb4,Nf3,Nxe4,Qd3,Nxc3,bxc3,Qb2,Rd1,Nc6,Ng5,Ne5,Qd5,Qxc3+,Bd2,Qc7,f4,e6', 'Qxe5,Qxe5+,fxe5', 'https://lichess.org/training/wu01y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wu0Fo', 'Blitz', 'Ingoblies', 1707, 'CommandoSausage', 1684, 'e4,d5,exd5,Nf6,d3,Nxd5,h3,Nc6,Nf3,Bf5,Qe2,Qd7,Nbd2,O-O-O,g3,Kb8,Bg2,Ncb4,Ne4,Nf6,a3,Nxe4,dxe4,Bxe4,axb4,e6,O-O,Bf5,Kh2,Bd6,c3,e5,Be3,e4,Nd4,g6,Nxf5,gxf5,Rfd1,Rhg8,Bf4,Qe6,Bxd6,Rxd6,Rxd6,Qxd6,Rd1,Qg6,Qe3,h5,Qd4,a6,Qd5,f4,Bxe4,fxg3+,fxg3', 'Qxg3+,Kh1,Qxh3#', 'https://lichess.org/training/wu0Fo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wu0p9', 'Bullet', 'THorr16', 2096, 'DimonZh', 2055, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Be7,Nxc6,dxc6,Bf1,O-O,d3,Bf6,Nc3,Re8,g3,Bxc3,bxc3,Rxe1,Qxe1,Be6,Bg2,Qf6,a4,Re8,Be3,Bd5,Rb1,Bxg2,Kxg2,b6,Qd2,h5,Re1,Qg6,Bf4,Rxe1,Qxe1,h4,Qe7,Qh5,Qxc7', 'h3+,Kf1,Qd1#', 'https://lichess.org/training/wu0p9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WU21j', 'Blitz', 'BenyaminGz', 1770, 'dE_pAiX', 1706, 'e4,e6,e5,d5,d4,c5,c3,cxd4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,Qc7,Qc2,Ne7,Bd3,O-O,Bxh7+,Kh8,Nf3,f5,Ng5,Nbc6,Qd3,g6,Qh3,Kg7,Bg8,Rxg8', 'Qh7+,Kf8,Qf7#', 'https://lichess.org/training/WU21j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wu8iS', 'Rapid', 'aknaithani', 1921, 'AMDAINTSYIA', 1842, 'e4,e5,Bc4,Bc5,Nc3,Nf6,h3,c6,Nf3,d5,exd5,cxd5,Be2,e4,Nh2,Bd7,O-O,d4,Nb1,O-O,d3,Bc6,Ng4,Nxg4,Bxg4,f5,Bh5,g6,Be2,Qd5,f3,e3,Kh1,Bd6,Qe1,g5,c3,h5,Bd1,Qe5,f4,gxf4,cxd4,Qxd4,Bxh5,Nd7,Nc3,Ne5,Qh4,Nxd3,Qg5+,Qg7,Bg6,Nf2+,Rxf2,exf2,Bd2,Rad8,h4,Bc5,h5,Rf6,Bxf4,Bd4,Ne2,Bxb2,Rf1,Rxg6', 'Qxd8+,Qf8,Qxf8+,Kxf8,hxg6', 'https://lichess.org/training/Wu8iS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wu8N0', 'Rapid', 'fonte', 1602, 'tomasjrl', 1610, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,d5,Bg5,dxe4,Nxe5,Qxd4,Nxc6,Qxd1+,Rxd1,bxc6,Bxf6,gxf6,Nxe4,Bg7,Bd3,O-O,O-O,f5,Ng3,f4,Nh5,Bg4,Nxg7,Bxd1,Nf5,Bg4', 'Nh6+,Kg7,Nxg4', 'https://lichess.org/training/Wu8N0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wubJL', 'Rapid', 'Guaracy', 1668, 'thoughtlss', 1699, 'e4,c5,f4,d6,Nf3,Nc6,Be2,Bg4,d3,Bxf3,Bxf3,e5,fxe5,Nxe5,O-O,Nf6,Nc3,Be7,Nd5,Nxd5,exd5,O-O,Be4,Rc8,c4,Bf6,Qh5,Ng6,Rb1,Bd4+,Kh1,Rc7,Bg5,f6,Bxg6', 'hxg6,Qxg6,fxg5', 'https://lichess.org/training/wubJL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wubRE', 'Rapid', 'Tilgehun', 1768, 'NickD', 1805, 'd4,d5,c4,c6,Nc3,Nf6,c5,a5,a4,b6,Nf3,bxc5,dxc5,e6,Qd4,Na6,e4,Bxc5,Qd1,d4,e5,Ng4,Ne4,Bb6,Nd6+,Kf8,Ng5,Nxe5,Nge4,Nc5,Qh5,Nxe4,Nxe4,f6,Bf4,Ng6,Nd6,e5,Bd3,Qxd6,Bxg6,exf4,O-O,Qe5,Qh4,Bf5,Rfe1,Qd5,Bh5,g6', 'Qxf6+,Qf7,Qxh8+', 'https://lichess.org/training/wubRE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WuCxq', 'Rapid', 'KP24_Bonaparte', 1616, 'edlearn', 1630, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Bf5,Nf3,e6,cxd5,exd5,e3,Be7,Bd3,Bg6,Bxg6,hxg6,h4,Ne4,Bxe7,Qxe7,Qb3,b5,a4,Nxc3,Qxc3,b4,Qc2,a5,g3,f6,b3,g5,O-O-O,g4,Nh2,Qe6,Qg6+,Qf7,Qxf7+,Kxf7,Nxg4,Nd7,Kb2,c5,dxc5,Nxc5,Rc1,Rhc8,Rhd1,Ke6,f4,Ra7,Nf2,Rac7,Rd2', 'Nxa4+,bxa4,Rxc1', 'https://lichess.org/training/WuCxq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WuDGD', 'Rapid', 'boogiemonster19', 1668, 'Federiche', 1689, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,Bf5,Bc4,e6,d3,exd3,O-O,dxc2', 'Qxd8+,Kxd8,Nxf7+,Ke8,Nxh8', 'https://lichess.org/training/WuDGD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wuHky', 'Rapid', 'Muhamed007', 1765, 'rtzvzr', 1700, 'e4,e5,Bc4,Nc6,Nf3,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Nxe5,Rxe5+,Be7,Bb3,O-O,Nc3,Bf6,Rh5,Re8,d3,c6,Bf4,Bxc3,bxc3,Nb5,c4,Nd4,Bg5,Qc7,Qg4,Nxb3,cxb3,Qe5,Rf1,d5,Qh4,Bf5,Bf4,Qf6', 'Qxf6,gxf6,Rxf5', 'https://lichess.org/training/wuHky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WuK3w', 'Blitz', 'lefterisGr', 1705, 'WFM DianaMirza', 1941, 'd4,d5,c4,c6,Nc3,dxc4,e3,e5,Bxc4,exd4,Nf3,dxe3,Qxd8+,Kxd8,Bxe3,Be6,Bxe6,fxe6,O-O,Be7,Bg5,Nf6,Rfe1,Nbd7,Rxe6,Nc5,Re5,Kc7,Rae1,Bd6,R5e2,Nd3,Rd1,Nb4,a3,Nbd5,Red2,Rad8,Nxd5+,cxd5,Bxf6,gxf6,Rxd5,Kc6,Rf5,Bxh2+,Kxh2,Rxd1,Rxf6+,Kb5,Rf7,b6,Rxa7,h5,b4,Rc1', 'Nd4+,Kc4,Rc7+,Kxd4,Rxc1', 'https://lichess.org/training/WuK3w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wULzF', 'Blitz', 'Leninlive', 2055, 'ths2', 2036, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,Bg4,Be3,e6,Be2,Nf6,h3,Bh5,O-O,Bd6,Nh2,Bg6,Ng4,h6,f4,Ne4,Nxe4,Bxe4,Bd3,Bxd3,Qxd3,O-O,c3,Ne7,Rae1,Rb8,f5,Nxf5,Rxf5,exf5,Qxf5,Re8,Rf1,Qe7,Bxh6,gxh6,Nf6+,Kf8,Qh7,Qe3+,Kh1,Ke7,Nxe8,Kxe8,Qxf7+,Kd8,Qxd5,Kc7,Rf7+,Be7,Qc5+,Kd7,Qf5+,Qe6,Qb5+,Kd8,Qf5,Qe1+,Kh2,Bd6+,g3', 'Qxg3+,Kh1,Qh2#', 'https://lichess.org/training/wULzF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wUM00', 'Rapid', 'maelic', 2027, 'majidjoon', 1986, 'd4,d5,Bf4,f5,Nf3,Nf6,Ne5,e6,e3,Bd6,Be2,O-O,O-O,Nbd7,Nd2,Bxe5,dxe5,Ne8,c4,c6,Nf3,g6,h4,Ng7,Nd4,Nb8,h5,g5,Bg3,h6,Bh2,a6,g4,c5,gxf5,cxd4,f6,Nf5,exd4,dxc4,Bxc4,Qxd4,Qxd4,Nxd4,Rad1,Nbc6,f4,b5,Bd3,g4,Be4,Rd8,Kf2,Ra7,Rg1,Nf5', 'Bxc6,Rxd1,Rxd1', 'https://lichess.org/training/wUM00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wunyz', 'Rapid', 'McVain', 2037, 'Emmy26', 1694, 'd4,e6,Nf3,c5,dxc5,Bxc5,c4,Nf6,Nc3,Qa5,Bd2,Qb6,e3,O-O,Na4,Qc6,Nxc5,Qxc5,b4,Qc7,Qb3,d5,c5,b6,Rc1,bxc5,Rxc5,Qb6,a4,a5,Rb5,Qc7,bxa5,Nc6,Rc5,Nxa5,Rxa5', 'Rxa5,Bxa5,Qxa5+', 'https://lichess.org/training/wunyz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wuoh5', 'Bullet', 'mkyilmaz', 1796, 'khamzovich', 1756, 'c4,Nf6,d4,e6,Nf3,d5,cxd5,exd5,Nc3,Be7,Bf4,c6,e3,O-O,Bd3,Bg4,e4,dxe4,Bxe4,Nxe4,Nxe4,Bxf3,gxf3,Nd7,Qb3,b6,O-O-O,a5,Rhg1,a4,Qc3,g6,Bh6,Re8,d5,Bf6,Nxf6+,Qxf6,Qxf6,Nxf6,dxc6,Re6,Kb1,Rxc6,f4,Rac8,f5,Rc2,fxg6,hxg6,f4,Rxh2,Bg5,Ne4,Be7,Rcc2,Ba3,b5,f5,Kg7,fxg6,fxg6,Rd7+,Kh6', 'Bf8+,Kh5,Rh7#', 'https://lichess.org/training/wuoh5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wuoLH', 'Blitz', 'CM Kingscrusher-YouTube', 2390, 'Nurgaz', 2093, 'b3,d5,Bb2,c6,e3,Bf5,f4,Nf6,Nf3,e6,d4,Nbd7,Bd3,Bxd3,cxd3,Be7,O-O,O-O,Nbd2,Rc8,Ne5,Nxe5,fxe5,Nd7,Rf3,c5,Rh3,f5,exf6,Nxf6,Nf3,h6,dxc5,Bxc5,Qd2,Qb6,Bd4,Bxd4,exd4,Rc7,Re1,Rfc8,Kh1,Rc2,Qe3', 'Ng4,Qf4,Nf2+', 'https://lichess.org/training/wuoLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wuRkH', 'Blitz', 'IlSalvatore', 2719, 'IM Nozdrachev_Vladislav', 2751, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Be7,Bg5,O-O,cxd5,exd5,e3,c6,Bd3,Nbd7,Qc2,Re8,h3,Nf8,Bf4,Ne6,Bh2,c5,dxc5,Nxc5,Bb5,Bd7,O-O,Rc8,Bxd7,Qxd7,Rac1,Qe6,Nd4,Qa6,Ndb5,Qb6,Qe2,Ne6,Rfd1,a6,Nd4,Nxd4,Rxd4,Bc5,Na4', 'Bxd4,Rxc8,Rxc8,Nxb6,Rc1+,Qf1,Rxf1+,Kxf1,Bxb6', 'https://lichess.org/training/wuRkH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wuROz', 'Rapid', 'BicycleMan', 1816, 'trollville', 1718, 'c4,Nf6,g3,d5,cxd5,Nxd5,Bg2,e6,Nf3,c5,O-O,Nc6,a3,Be7,d3,b6,Nc3,Bb7,Ne4,Nf6,Nfd2,Nd4', 'Nxf6+,Bxf6,Bxb7', 'https://lichess.org/training/wuROz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wURwd', 'Rapid', 'D10S', 1770, 'hbeck', 2187, 'd4,Nf6,Bf4,d5,Nc3,Bf5,e3,e6,a3,a6,Nf3,c5,Bd3,Ne4,Bxe4,dxe4,Nd2,cxd4,exd4,Qxd4,O-O,Nc6,Re1,Bc5,Be3,Qe5,Bxc5,Qxc5,Ncxe4,Qd5,Nc3,Qc5,Qf3,O-O,Nde4,Qc4,Red1,Nd4,Qe3,Nxc2,Qf4,Nxa1', 'Nf6+,gxf6,Qxc4', 'https://lichess.org/training/wURwd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wUSVj', 'Rapid', 'Aksakal1956', 1977, 'karzin1962', 2130, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,Bg5,Bg7,Bd3,O-O,Nge2,a6,O-O,b5,a3,Qc7,Rc1,Nbd7,f4,Ng4,Qd2,c4,Bb1,Qb6+,Kh1,Nf2+,Rxf2,Qxf2,Be7,Qb6,Bxf8,Bxf8,Nd4,Nc5,Rf1,Bg7,Nc6,Bd7,f5,Bxc6,dxc6,Qxc6,f6,Bf8,g4,Re8,Nd5,Nxe4,Bxe4,Rxe4,g5,Re5,Rd1,h5,Qg2,Qc5,h4,a5,Nf4,Qe3,Nd5,Qe4,Qxe4,Rxe4,Kg2,Rxh4,Kf3,Rg4,Ne7+,Kh7,Rd5,b4,axb4,axb4,Rxd6,c3,bxc3,bxc3,Rd8,Bxe7,fxe7,c2,e8=Q,Rf4+,Kxf4,c1=Q+,Qe3', 'Qc7+,Kf3,Qxd8', 'https://lichess.org/training/wUSVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WuUDt', 'Rapid', 'etmarkwell', 1634, 'Pierre_Sosa', 1616, 'e4,e5,Nf3,Bc5,Bc4,Nf6,Nxe5,d6,Nxf7,Bxf2+,Kxf2,Nxe4+,Ke1', 'Qh4+,g3,Nxg3,hxg3,Qxh1+', 'https://lichess.org/training/WuUDt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wuVlK', 'Blitz', 'aliane333', 1799, 'Ster_manis', 1783, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,dxc5,Bxc5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Nc3,O-O,Nxd5,Nxd5,Qxd5,Qc7,Be3,Bxe3,fxe3,Nf6,Qf5,Rac8,c3,Qb6,Rfe1,Qxb2,Rab1,Qxc3,Rxb7,a5,Reb1,Qxe3+,Kf1,Rc1+,Rxc1,Qxc1+,Kf2,Qc3,Kg3,g6,Qb1,Nh5+,Kf2,Qc5+,Kf1,Kg7,Rb5,Qc4+,Kg1,Nf4,h3,Ne2+,Kh2,Nc3,Qb2,Qxb5,Qxc3+,f6,Qc7+,Rf7,Qc3,Qa4,a3,Re7,Ng5,Qd7,h4,Qc7+', 'Qxc7,Rxc7,Ne6+,Kf7,Nxc7', 'https://lichess.org/training/wuVlK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wuVmT', 'Rapid', 'buchidele', 1800, 'Roland4_7-587', 1843, 'd4,g6,c4,Bg7,Nc3,Nf6,Nf3,O-O,h3,c6,a3,d5,cxd5,Nxd5,Nxd5,cxd5,e3,Bf5,Bd3,Qc8,b4', 'Qc3+,Bd2,Qxd3', 'https://lichess.org/training/wuVmT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WuVno', 'Blitz', 'carlosperez123', 1586, 'frfe31', 1589, 'e4,e6,Nf3,d5,exd5,Qxd5,d4,Nc6,c4,Qe4+,Be3,Bb4+,Nc3,Nf6,Bd3,Bxc3+,bxc3,Qg4,O-O,Ne4,h3,Qg6,d5,exd5,cxd5,Bxh3,Nh4,Qh5,Bxe4,Qxh4,gxh3,Qxe4,dxc6,O-O,cxb7,Rae8,Rb1,Re6,Qd4', 'Rg6+,Bg5,Rxg5+,Kh2,Qg2#', 'https://lichess.org/training/WuVno');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WuvpI', 'Blitz', 'kasparosa', 1735, 'gangubai', 1733, 'Nf3,Nf6,d4,d5,c3,Bg4,Bg5,Bxf3,exf3,e6,Nd2,h6,Bh4,Be7,Bd3,c5,Qa4+,Nc6,Bb5,O-O,Bxc6,bxc6,Qxc6,cxd4,cxd4,Qa5,Qc3,Bb4,Qd3,Nd7,a3,Bd6,b4,Qb6,O-O,Rac8,Rac1,e5,dxe5,Nxe5,Qb3,Ng6,Bg3,Bxg3,hxg3,d4,Ne4,Rxc1,Rxc1,Rd8,Qd3,Ne5,Qb3,d3,Nc5,d2,Rd1,Qd6,f4,Ng4,Ne4,Qd4,Qf3,h5,Rxd2', 'Qa1+,Qd1,Qxd1+,Rxd1,Rxd1#', 'https://lichess.org/training/WuvpI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WUW6g', 'Rapid', 'KPSlumped', 1864, 'bhotloo', 1763, 'e4,e5,Nf3,d6,h3,b6,Bc4,Bb7,d3,Nd7,Nc3,Nc5,a3,h6,O-O,Nf6,Nh2,Be7,Ng4,Nxg4,Qxg4,O-O,Bxh6,Bf6,Nd5,c6,Nxf6+,Qxf6,Qg5', 'Qxh6,Qxh6,gxh6', 'https://lichess.org/training/WUW6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WUwc6', 'Rapid', 'theclouding', 2103, 'tdoults', 1998, 'e4,c5,Nf3,d6,Bb5+,Nd7,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bd3,g6,Be3,Bg7,h3,b5,a3,Bb7,Qd2,h5,f4,Nc5,e5,dxe5,fxe5,Nfe4,Nxe4,Nxe4,Bxe4,Bxe4,e6,O-O,O-O,Qd5,exf7+,Rxf7,Rxf7,Qxf7,Rf1,Qd5,c3,Rd8,Qf2,e5,Nf3,Bd3,Re1,e4,Ng5,Rf8,Qg3,Qf5,h4,Be5,Qh3', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/WUwc6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wUx19', 'Rapid', 'blablub', 1989, 'mironov55', 1919, 'd4,Nf6,c4,e5,dxe5,Ne4,g3,d6,Bg2,Bf5,Nf3,Nc6,Nh4,Qd7,Nxf5,Qxf5,O-O,O-O-O,Qc2,Nxg3,Qxf5+,Nxf5,Bh3,Nd4,e3,Nf3+,Kh1,g6,e4,Nd4,Na3,dxe5,Bg5,Rd7,exf5,gxf5,Nb5,h6,Bf6,Rg8,Nxd4,Rxd4,Rad1,Bd6,Rxd4,exd4,Bxf5+,Kb8,Bxd4,c5,Be3,h5,Rd1,Kc7,Rg1,Rxg1+,Kxg1,a6,Kg2,b5,b3,bxc4,bxc4,Kb6,h3,Ka5,Kf3,Kb4,Ke2,Ka3,Bc1+,Kxa2,Bc2,Be5,f4,Bb2,Kd2,Bxc1+,Kxc1,Ka3,Bd3,Kb3,Kd2,a5,h4,a4,Bc2+,Kb4,Kd3', 'a3,Bb1,Kb3,f5,Kb2', 'https://lichess.org/training/wUx19');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WuX34', 'Blitz', 'ERICKJV2020', 1563, 'JaredJV', 1589, 'e4,e5,Nf3,Nh6,Nc3,Qf6,Bc4,Bc5,d3,Ng4,O-O,Bxf2+,Rxf2,Nxf2,Kxf2,O-O,Bg5,Qg6,a3,d6,Qd2,Bg4,Nh4,Qh5,Nd5,Be6,Ne7+,Kh8,Bxe6,fxe6+,Kg1,d5,Qe3,dxe4,dxe4,Nd7,Qc3', 'Qxg5,Nhg6+,hxg6,Qh3+,Qh6', 'https://lichess.org/training/WuX34');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WUXqy', 'Rapid', 'echec-du-pdc', 1865, 'Jaroslav003', 1921, 'e4,e5,Nf3,d6,Nc3,a6,d4,exd4,Nxd4,c5,Nf3,Bg4,h3,Bxf3,Qxf3,Nc6,Bc4,Ne5,Qe2,Nxc4,Qxc4,Nf6,O-O,Be7,Bf4,O-O,Rad1,b5,Qe2,Qb6,Rd2,Rad8,Rfd1,Rd7,e5,Ne8,Qg4,Rd8,Bh6,dxe5,Bg5,f6,Be3,Rxd2,Rxd2,f5,Qf3,f4,Nd5,Qe6,Nxe7+,Qxe7,Qd5+,Kh8', 'Bxc5,Qxc5,Qxc5', 'https://lichess.org/training/WUXqy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WUyKg', 'Rapid', 'chalmin', 1794, 'imanmasoom', 1663, 'e4,e6,Nc3,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,d3,Bxb5,Nxb5,Qa5+,Nc3,Bb4,Bd2,Nc6,a3,Bxc3', 'Bxc3,Qc7,Bxg7,f6,Bxh8', 'https://lichess.org/training/WUyKg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wuyMN', 'Rapid', 'sipho1998', 1889, 'alikhairala2019', 1884, 'e4,e6,d4,d5,exd5,exd5,Nf3,c5,Nc3,Nc6,dxc5,d4,Ne4,Bxc5,Nxc5,Qa5+,c3,dxc3,Qe2+,Nge7,Nb3', 'cxb2+,Nxa5,bxa1=Q', 'https://lichess.org/training/wuyMN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WUyne', 'Blitz', 'Prabira', 1612, 'noobplay3r13', 1612, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bg6,Bxg6,hxg6,Nc3,e6,Be3,Qc7,Nf3,c5,dxc5,Bxc5,Qd3,Bxe3,Qxe3,Ne7,O-O-O,Nbc6,Nb5,Qb6,Nd6+,Kd7,Kb1,Qa6,Nxf7,Rh5,g4,Rh3,N3g5,Rxe3,fxe3,Nb4,a3,Nbc6,Nxe6,Kxe6,Ng5+,Kxe5,e4,b5,exd5,Nxd5,Rhe1+,Kd6,Re6+,Kc5,b4+,Ndxb4,axb4+,Kxb4,Re4+,Kc5,Ne6+,Kb6,Rd6,Rf8,Kb2,Rc8,Rb4,Qa5,Rb3,Qe1,Rbd3,Qe5+,Kb1,Kb7,R3d5,Qe1+,Kb2,Qb4+,Kc1,Qa3+,Kb1,Nb4', 'Rxb5+,Ka8,Nc7+,Rxc7,Rd8+,Rc8,Rxc8#', 'https://lichess.org/training/WUyne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WuYPY', 'Rapid', 'The_Emperor_ru', 2093, 'HasanuddinTBK', 2052, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Be2,d5,d4,exd4,Nxd4,dxe4,Be3,Bb4,Qd2,Nd5,O-O,O-O,a3,Nxc3,bxc3,Bd6,Rfe1,Qh4,g3,Qh3,Bf1,Qh5,Bf4,Bg4,Bxd6,cxd6,Rxe4,Nc6,Nxc6,bxc6,Qxd6,Rad8,Qf4,f5,Re6,Bf3,Rae1,h6,Re7,Rd1,Qe5,Qg6,Rxd1,Bxd1,Rxa7,Bf3,a4,Re8,Re7,Rf8,a5,f4,a6,fxg3,Qxg3,Qf6,Re3,Bd5,Bd3,Kh8,a7,Qxc3,Qg6,Qa1+,Bf1,Qd4,Bd3,Qa1+,Bf1,Qxa7,Bd3', 'Qa1+,Bf1,Bc4', 'https://lichess.org/training/WuYPY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wv4qY', 'Blitz', 'frenchforever', 2270, 'NM master05', 2164, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,O-O,Nc3,c6,d5,cxd5,cxd5,d6,Nf3,Bg4,Nd4,Nbd7,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Bh6,Qb6,Bxg7,Kxg7,Qd2,Bh5,Nf5+,gxf5,Rxh5,Nf6,Rxf5,Kh8,O-O-O,Rac8,Rh1,Rg8,Be4,Nxe4,Rxh7+,Kxh7', 'Rh5+,Kg6,Qh6#', 'https://lichess.org/training/wv4qY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wv5Y4', 'Bullet', 'KCXGamer', 1651, 'Solal35', 1653, 'e4,e5,Nc3,Nc6,f4,exf4,Nf3,h6,d4,g5,d5,Nce7,e5,Bg7,d6,Nc6,Qd5,cxd6,exd6,Nf6,Qf5,O-O,Bd3,Qe8+,Kf2,Qe6,Qc5,Ng4+,Kg1,Bd4+,Nxd4', 'Qe1+,Bf1,Qf2#', 'https://lichess.org/training/Wv5Y4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WV6vQ', 'Rapid', 'Sergei_31', 1818, 'cabaletto', 1866, 'd4,g6,e4,Bg7,c4,d6,Nc3,c5,d5,Nf6,f3,Bd7,Bd3,a6,a4,e5,Nge2,O-O,O-O,Nh5,f4,f5,exf5,Bxf5,Bxf5,Rxf5,fxe5,Rxf1+,Qxf1,Bxe5,g3,Nd7,Ra3,Rb8,Nf4,Nxf4,Bxf4,Bd4+,Kg2,Ne5,Rb3,Bxc3,Rxc3,Qa5,Qd1,Qb4,Bxe5,Qxb2+,Kh3,dxe5,Re3,Re8,d6,Kg7,d7,Rd8,Qd6,Qd4,Qxe5+,Qxe5,Rxe5,Rxd7,Rxc5,Kf6,a5,Ke6,Kg4,Kf6,h4,h6,h5,gxh5+,Kxh5,Kg7,g4,Kh7,Rd5,Rc7,c5,Kg7,Rf5,Kh7,g5,hxg5,Kxg5,Kg7,Kf4,Re7,Re5,Kf6,Rd5,Ke6,Rh5,Kd7,Rh6,Kc7,Kf5,Kd7,Rf6,Kc7,Rb6,Re8,Kf6,Re4,Kf5', 'Rc4,Ke5,Rxc5+', 'https://lichess.org/training/WV6vQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wVBUY', 'Blitz', 'CaballoGuerrillero', 2013, 'Nimzoblitz', 2053, 'e4,Nc6,d4,e5,c3,exd4,cxd4,d5,e5,Bf5,Nc3,f6,Bd3,Bxd3,Qxd3,Bb4,Nf3,Qe7,O-O,O-O-O,exf6,gxf6,Bf4,Bd6,Bxd6,Qxd6,Rac1,Nge7,Nb5,Qf4,Qa3,Rhg8,Rfe1,Nf5,Rxc6,bxc6,Qa6+,Kd7,Nxa7,Rxg2+,Kf1,Rxf2+,Kxf2,Nxd4,Qd3,Nxf3', 'Qxh7+,Kd6,Qe7#', 'https://lichess.org/training/wVBUY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wvcbk', 'Rapid', 'MajorOrgans', 1814, 'Nicoley', 1671, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nd5,Nxe4,Bd3,Nf6,Qe2+,Be7,Nxf6+,gxf6,Bh6,d6,O-O-O,Bg4,Rhe1,Ne5,h3,Bxf3,gxf3,Qd7,f4,Nxd3+,Rxd3,c5,c3,Rc8,Kb1,Kd8,cxd4,cxd4,Rxd4,Re8,Re4,Qf5,Ka1,Rc7,Bf8,Qd7,Rxe7,Rxe7,Bxe7+,Qxe7,Qd2,Qd7,Qd4,Qc6,Qxf6+,Kc8', 'Qh8+,Kd7,Qe8#', 'https://lichess.org/training/wvcbk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wvch3', 'Classical', 'mariuseg', 2139, 'irakli-georgie', 2149, 'e4,e6,d4,d5,Nd2,b6,c3,Bb7,Bd3,dxe4,Bxe4,Bxe4,Nxe4,Nf6,Qf3,Nxe4,Qxe4,Qd5,f3,Nd7,Ne2,c5,Qxd5,exd5,Kf2,Bd6,Re1,O-O,Bf4,Bxf4,Nxf4,Nf6,Re5,cxd4,cxd4,Rac8,Rae1,Rfd8,Re7,Rc4,Nxd5,Rxd4,Nxf6+,gxf6,Rxa7,f5,Kg3,f4+,Kh3,R8d6,Ree7,Rf6,b3,Rd5,Kg4,Kg7,h4,Rd1,h5,Rd2,Kh3,Rd5,Kh4,Rd2,Re5,Kh6,Kh3,Rd1,Kh2,Kg7,Rg5+,Kh6,Rb5,Rc1,Ra6,Rcc6,a4,Rfd6,Rf5,Rd4,Rb5,Rdd6,b4,f6,a5,Rc2,Raxb6,Rdd2,Rxf6+,Kg7,Rxf4,Rxg2+,Kh3', 'Rh2+,Kg4,Rcg2+,Kf5,Rxh5+,Ke4,Rxb5', 'https://lichess.org/training/wvch3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WvdkM', 'Blitz', 'anton80', 1886, 'lutekhin', 1847, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,Re1,Nc5,Bb3,e4,d4,Nxb3,Rxe4+,Be7,axb3,O-O,d5,Na7,Qe2,Re8,Bg5,f6,Bf4,Kf7,Nc3,d6,Re1,Bd7,Nd4,Nb5,Ndxb5,axb5,Nxb5,Bxb5,Qxb5,g5,Bg3,h5,h4,f5,Re6,gxh4,Qd3,hxg3,Qxf5+,Bf6,Qxh5+,Kg7,Qg4+,Bg5,Rxe8,Qxe8,Qxg5+,Kh7,Rxe8', 'Ra1+,Qc1,Rxc1+,Re1,Rxe1#', 'https://lichess.org/training/WvdkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVdS5', 'Rapid', 'Oleg-Chelovek', 1825, 'Rakib9870', 1772, 'e4,e5,Nf3,Qf6,d4,exd4,Bg5,Qb6,Qxd4,Bc5,Qxg7,Bxf2+,Ke2,f6,Qxh8,Kf8,Bh6+,Ke7,Qg7+,Kd6,Qxg8,Nc6,Bf4+,Ne5,Qd5+,Ke7,Bxe5,fxe5,Qxe5+,Kd8,Qg5+,Ke8,Ne5,d6,Qh5+,Kd8,Ng4', 'Bxg4+,Qxg4,Qe3+,Kd1,Qe1#', 'https://lichess.org/training/WVdS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wVEdS', 'Rapid', 'ronelo1', 1694, 'ducuu', 1626, 'e4,d6,d4,Nf6,Bd3,e5,d5,Nbd7,Nc3,c6,Be3,cxd5,Nxd5,Nxd5,exd5,Qa5+,Qd2,Qxd5,b3,Qxg2,O-O-O,Qxh1,Bg5,Qc6,Bc4,Be7,Bxe7,Kxe7,Qg5+,Nf6,Qxg7,Be6,Bxe6,Kxe6,Nf3,Rac8,Ng5+,Ke7', 'Qxf7+,Kd8,Ne6#', 'https://lichess.org/training/wVEdS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wvEo4', 'Rapid', 'svetush', 1799, 'greck0', 1645, 'd4,d5,Nc3,Nf6,a3,c5,dxc5,e5,Nf3,d4,Nb1,Nc6,c3,Bxc5,cxd4,exd4,Qa4,O-O,Bd2,Bd7,Qc2,Qe7,b4,Bb6,e3,Rac8,Qd3,dxe3,Bxe3,Bg4,Be2,Bxf3,Bxf3,Bxe3,fxe3,Ne5,Qe2,Rfe8,O-O,Nc4,e4,Nxe4,Re1,f5,Bxe4,fxe4,Nc3,Nd6,Nd5,Qg5,Rad1,Nc4,Rc1,Qxd5,Red1,Qb5,h3,Qb6+,Kh1,Qe6,Rc3,e3,Rd4,Nd2,Rxc8,Rxc8,Rxd2,Rc1+,Kh2,Qe5+,g3,Qa1,Qxe3', 'Rh1+,Kg2,Qf1#', 'https://lichess.org/training/wvEo4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WvEYZ', 'Rapid', 'bragijoh', 1799, 'zoranardalic', 1848, 'd4,d5,Bf4,Bf5,Nf3,h6,e3,e6,Nbd2,Nf6,Be2,Nh5,Bg3,Nxg3,hxg3,a6,Nh4,Bh7,Nb3,Nd7,Bd3,Qb8,Bxh7,Rxh7,Qd3,Rh8,Nf3,Qa7,O-O-O,O-O-O,c4,dxc4,Qxc4,Kb8,Kb1,Nb6,Qc2,Nd5,Nc5,Bxc5,dxc5,Nb4,Qc4,Nc6,Nd4,Nxd4,exd4,Rd5,Rd2,Rhd8,Rhd1,b6,cxb6,cxb6,f4,Rc8,Qb4,Ka8,Rc1,Rxc1+,Kxc1,Qc7+,Kb1,Kb7,Rc2,Qd7,Qf8,Rxd4,Qxg7', 'Rd1+,Rc1,Qd3+,Ka1,Rxc1#', 'https://lichess.org/training/WvEYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wVf0e', 'Rapid', 'toreto7', 2007, 'Psharmxyz', 2017, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bg4,cxd5,cxd5,h3,Bxf3,exf3,e6,Bg5,Nbd7,Bb5,Be7,Qa4,O-O,Bxd7,Qxd7', 'Qxd7,Nxd7,Bxe7', 'https://lichess.org/training/wVf0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVFCF', 'Blitz', 'IM Tahaned2015', 2478, 'wwwp', 2342, 'd4,d5,c4,c6,Nf3,Nf6,e3,e6,Bd3,Nbd7,Nc3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,b4,Ne4,Be7,Qc2,c5,Nxf6+,gxf6,dxc5,Nxc5,Bb5+,Kf8,Nd4,Qd5,f3,Bd6,Rd1,Qe5,f4,Qe4,Qxe4,Nxe4,Bd3,Rd8,Bd2,Nc5,Bf1,a5,a3,Ne4,axb4,Nxd2,Rxd2,axb4,Ra7,Bd5,Rc2,Kg7,Bc4,Be4', 'Nxe6+,Kh6,Nxd8', 'https://lichess.org/training/WVFCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVFg5', 'Rapid', 'K88888', 1626, 'Zmv1980', 1688, 'd4,d6,e4,e6,f4,f5,Nc3,Nf6,e5,dxe5,dxe5,Qxd1+,Nxd1,Nd5,a3,b6,Ne3,Bb7,Ne2,c5,Nxd5,Bxd5,Nc3,Bc6,Bd2,h6,O-O-O,Be7,Rg1,g5,g4,fxg4,Be2,Nd7,Bxg4,Nf8,Bh5+,Kd8,Rge1,Kc8,Ne4,gxf4,Bxf4,Bg5,Nd6+,Kc7,Bxg5,hxg5,Bg4,Rxh2,Nf7,Rg2,Be2,Nd7,Bc4,Re8,Nd6,Re7,Bb5,g4,Bxc6,Kxc6,Nc8,Re8,Nxa7+,Kc7,Nb5+,Kc6,a4,g3', 'Rd6+,Kb7,Rxd7+', 'https://lichess.org/training/WVFg5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wVG1B', 'Rapid', 'Zitti', 1797, 'wildcat89', 1881, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,f6,c3,Be6,O-O,Qd7,d4,O-O-O,Be3,Kb8,a4,g5,Na3,g4,hxg4,Bxg4,dxe5,Bxf3,Qxd7,Rxd7,gxf3,fxe5,Nc4,Bd6,b4,Nf6,Rfd1,Rhd8,Bg5,Rf8,Bxf6,Rxf6,Nxe5', 'Rg7+,Kf1,Bxe5', 'https://lichess.org/training/wVG1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wVg8S', 'Rapid', 'Juandaniel56', 1935, 'Ms_Dhoni_no_1', 1711, 'e4,Nc6,f4,d6,Nf3,e5,f5,Nf6,d3,Bd7,h3,Qe7,Be3,b6,Nc3,O-O-O,a4,Kb8,Be2,h5,O-O,Ng4,hxg4,hxg4,Bg5,f6,Be3,gxf3,Rxf3,Qf7,Nd5,Nd4,Rg3,Nxe2+,Qxe2,Rg8,a5,g6,axb6,cxb6,Nxb6,axb6,Bxb6,Rc8,d4,Qc4,Qxc4,Rxc4,Rb3,Kc8', 'Ra8+,Kb7,Ra7+', 'https://lichess.org/training/wVg8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wVGjB', 'Classical', 'cape_town21', 1636, 'Emoller', 1603, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Bc4,Qe7,Nxc3,Nf6,Bg5,h6,Nd5,Qd6,Bxf6,gxf6,Nd4,Nxd4,Qxd4,c6,Nxf6+,Kd8,Qxd6,Bxd6,O-O-O,b5,Rxd6,bxc4,Rhd1,h5,Nxd7,Ke8,Nf6+,Kf8,Rd8+,Kg7,Rxh8,Kxh8,Rd8+,Kg7,Nxh5+,Kg6,Nf4+,Kg7,Kc2,a5,Kc3,a4,Kxc4', 'Ba6+,Kc3,Rxd8', 'https://lichess.org/training/wVGjB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVhG9', 'Rapid', 'vetalik_keks', 1680, 'Piotrekk249', 1634, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nbd2,d5,Qe2,d4,h3,O-O,g4,Rb8,b3,Qd6,g5,Be7,h4,Bg4,Qf1,Bxf3,Nxf3,Qc5,Qe2', 'Qc3+,Kf1,Qxa1+', 'https://lichess.org/training/WVhG9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WvhHe', 'Rapid', 'vader66', 1967, 'Vigues', 1980, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Bc5,Bc4,d6,O-O,Be6,Bxe6,fxe6,a3,Nf6,b4,Bb6,Re1,O-O,Bg5,h6,Bh4,Qe7,Qd3,Bd4,Rad1,Rad8,Ne2,Bb6,Kh1,d5,exd5,cxd5,c3,e4,Qd2,Qf7,Nd4,Bxd4,Qxd4,Rc8,Bg3,Nh5,Be5,Nf4,Bd6,Rfe8,Bc5,Qg6,g3,Nd3,Bxa7,Rc4,Qb6,Nxe1,Rxe1,Rxc3,a4,Rf3,Kg1,Ref8,Qb7,R8f7,Qb8+,Kh7,a5,Qf6,Rf1,Qc3,Bc5,d4,a6,d3', 'a7,Rxa7,Qxa7', 'https://lichess.org/training/WvhHe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wVIiI', 'Rapid', 'Mstislav_Keldysh', 1721, 'S_a_n_j_a_y', 1772, 'e4,d5,exd5,Nf6,Nc3,e6,dxe6,Bxe6,Nf3,Bb4,Bd3,O-O,O-O,Bg4,a3,Ba5,b4,Bb6,Bb2,Bd4,h3,Bh5,Re1,Re8,Be2,Nc6,Nxd4,Bxe2,Rxe2,Nxd4,Re1', 'Rxe1+,Qxe1,Nxc2,Qc1,Nxa1', 'https://lichess.org/training/wVIiI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wvmMh', 'Rapid', 'babaji', 1764, 'casha777', 1690, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,d6,d4,Na5,Be2,Bg4,dxe5,Bxf3,Bxf3,dxe5,Qe2,Nf6,Qb5+,Nc6,Qxb7,Nd4,Rd1', 'Nxf3+,gxf3,Qxd1+', 'https://lichess.org/training/wvmMh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVnOC', 'Blitz', 'gersontaticas360', 2223, 'CM sanshiro', 2303, 'e4,g6,Nf3,Bg7,d4,d6,c3,Nf6,Bd3,O-O,O-O,Nc6,h3,e5,d5,Ne7,Bg5,h6,Be3,Nh5,Qd2,Kh7,g4,Nf4,Bxf4,exf4,Qxf4,g5,Qe3,Ng6,Re1,Kh8,Nbd2,Nf4,Bf1,h5,gxh5,Bxh3,Bxh3,Nxh3+,Kh2,Nf4,Rg1,f6,Nd4,Re8,Nf5,Qd7,h6,Bf8,Qf3,Qh7,Rh1,c6,c4,cxd5,cxd5,Rac8,Rac1,Qd7,b3,Qb5,Nc4,Qa6,a4,b6,Rhe1,Red8,Qc3,Qb7,Qxf6+,Kh7,Qxg5,Nd3,Re3,Nxc1,Rg3,Qf7,Nh4,Be7', 'Qg7+,Qxg7,Rxg7+', 'https://lichess.org/training/WVnOC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wVOMd', 'Classical', 'roysayan', 1971, 'Guillaume44470', 1725, 'd4,c5,dxc5,e6,Nc3,Bxc5,Ne4,Qb6,Nf3,Bxf2+,Nxf2,Nf6,Qd4,Qa5+,Bd2,Qc7,O-O-O,Nc6,Qf4,Qb6,Be3,Qa5,Nd3,Qxa2,h3,Nd5,Qe4,f5,Qh4,Nxe3,Kd2,Nxd1,Kxd1,Na5,g3,Nc4,Ke1,Qb1+,Kf2,Qxc2,Nd4,Qd2,Nb5,Qe3+,Ke1,Nd2', 'Nd6+,Kf8,Qd8#', 'https://lichess.org/training/wVOMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wvoWg', 'Classical', 'kimoko', 1604, 'sbarellato', 1751, 'e4,c5,Nc3,Nc6,Nf3,d6,Bb5,Bd7,d3,Nf6,Bg5,e6,Bxc6,Bxc6,e5,dxe5,Nxe5,Be7,Nxc6,bxc6,Qf3,O-O,Qxc6,Rc8,Qa6,Nd5,Bxe7,Qxe7,Nb5,Nb4,Qa4,Qf6,O-O-O,Qxf2,Rd2,Qf4,g3', 'Nxd3+,cxd3,Qxa4', 'https://lichess.org/training/wvoWg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVPaf', 'Classical', 'Abomatar', 1632, 'Splean', 1640, 'e4,d5,e5,e6,d4,c5,c3,cxd4,cxd4,Nc6,Bb5,Bd7,Nf3,Qa5+,Nc3,Bb4,Bd2', 'Bxc3,Bxc3,Qxb5', 'https://lichess.org/training/WVPaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVPjk', 'Rapid', 'Eu2010', 1792, 'freeeee255', 2042, 'd4,d5,c4,dxc4,e4,c5,Qa4+,Bd7,Qxc4,cxd4,Nf3,e5,Nxe5,Qa5+,Bd2,Qxe5,Bd3,Nf6,O-O,Nc6,f4,Qc5,Na3,Be7,Rac1,Qxc4,Nxc4,O-O,e5,Nd5,Nd6,Bxd6,exd6,Rad8,Be4,Nf6,Bf3,Be6,Bxc6,bxc6,a3,Rxd6,Bb4,Rfd8,Bxd6,Rxd6,Kf2,Ne4+,Ke2,f5,Rfd1,Kf7,Kf3,Kf6,g4,fxg4+,Kxe4', 'Bf5#', 'https://lichess.org/training/WVPjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVPSB', 'Rapid', 'Espartakower', 1965, 'alinazari2016', 1788, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,b6,Nf3,a5,c4,Bb4+,Bd2,O-O,Bd3,g6,O-O,Nc6,d5,exd5,exd5,Bxd2,Qxd2,Nb4,Rfe1,Bg4,Ne5,Nxd3,Qxd3,Bf5,Qc3,Qf6,Re3,Rfe8,Rae1,Re7,Nc6,Rxe3,Qxe3,Bd7,Ne5,Re8', 'Nxd7,Rxe3,Nxf6+', 'https://lichess.org/training/WVPSB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVQOB', 'Rapid', 'Ferengejt', 1606, 'onemoreredknightmare', 1647, 'e4,Nf6,Nc3,d5,e5,Nfd7,d4,c5,Nxd5,cxd4,Qxd4,Nc6,Qe3,e6,Nf4,Ncxe5,Bb5,Nc6,Nd5,Bc5,Qf4,exd5,Nf3,O-O,O-O,a6,Bd3,Nf6,Qg3,Bd6,Qh4,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf4', 'Bh7+,Nxh7,Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/WVQOB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WvrIC', 'Blitz', 'esti825', 1598, 'kilicali', 1606, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,c3,Nxe4,d4,Bd7,d5,Ne7,Bxd7+,Qxd7,c4,c6,Bg5,Nxg5,Nxg5,h6,dxc6,bxc6,Ne4,d5,Nc5,Qc7,Nc3,Ng6,Nd3,Rd8,cxd5,cxd5,Qa4+,Qd7,Qb3,Be7,Rfe1,e4,Nb4,Rb8,a3,a5,Qxd5,axb4,Qxd7+,Kxd7,Rad1+,Ke8,Nxe4,bxa3,bxa3,Bxa3', 'Nf6+,Kf8,Nd7+,Kg8,Nxb8', 'https://lichess.org/training/WvrIC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVsJO', 'Blitz', 'adityapande9', 1893, 'Liceaga-king', 1700, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,c4,Qh5,Be2,O-O-O,Be3,Nf6,Nc3,e6,Qa4,Bb4,O-O,Bd6,h3,Bxh3,Ne5,Qh4,Nxc6,Bxg2,Nxa7+,Kb8,Kxg2,Qh2+,Kf3,Qh5+,Kg2', 'Qh2+,Kf3,Qh3#', 'https://lichess.org/training/WVsJO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wvSLf', 'Rapid', 'Fridolf', 2263, 'TheBrutalist', 2087, 'e4,e5,Nf3,d6,Bc4,c6,O-O,Nd7,d4,Be7,dxe5,dxe5,c3,b5,Bb3,Ngf6,Re1,O-O,a4,Qc7,h3,Bb7,Bc2,a6,Qe2,h6,Nbd2,Nh7,Nf1,c5,Ng3,c4,Nf5,Bf6,h4,Nc5,g4,Ne6,Kh2,Rfd8,Rg1,Nf4,Bxf4,exf4,Kh3,Re8,axb5,axb5,Rxa8,Bxa8,g5,hxg5,hxg5,Be5,g6,fxg6,Rxg6,Re7,Nxe7+,Qxe7,Nxe5,Qxe5,Qg4,Bb7,Re6', 'Ng5+,Kh2,Nxe6', 'https://lichess.org/training/wvSLf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVtNt', 'Rapid', 'mcdontknow', 1758, 'kit1', 1848, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,Bg4,h3,Bh5,d3,Na5,Bc2,c5,b4,cxb4,cxb4,Nc6,a3,Nd4,Nbd2,Qd7,Bb2,Nxf3+,Nxf3,Rc8,Rc1,O-O,d4,exd4,Bxd4,Rc6,Qd3,Rfc8,e5,Bxf3', 'exf6,Rxc2,Rxc2', 'https://lichess.org/training/WVtNt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WvTXS', 'Blitz', 'soyelrey', 1657, 'BeastShivraj007', 1541, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bc4,g6,O-O,Bg7,Qd1,O-O,Bg5,Be6,Bxf6,Bxf6,Bxe6,fxe6,f3,Rc8,Qd3,Qc7,Rac1,Bxc3,bxc3,Qxc3,Qxc3,Rxc3,Rfd1,Rfc8,Rd2,Ra3,c4,Ra4,Rdc2,Ra5,Kf2,Rac5,Ke3,b5,Kd3,bxc4+,Rxc4,Rxc4,Rxc4,Rxc4,Kxc4,Kf7,Kb5,Kf6,a4,d5,a5,dxe4', 'fxe4,Ke5,Ka6,Kxe4,Kxa7', 'https://lichess.org/training/WvTXS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WvUrV', 'Rapid', 'OgiDanie', 1773, 'Rakyrs', 1810, 'e4,e6,d4,d5,exd5,exd5,f4,Bb4+,Bd2,Nc6,Nf3,Nf6,a3,Bxd2+,Qxd2,O-O,c4,Ne4,Qc2,Re8,Be2,Bg4,O-O,dxc4,Qxc4,Bxf3,Bxf3,Qxd4+,Qxd4,Nxd4,Nc3,Nxf3+,Rxf3,f5,Nd5,Rac8,Rc1,c6,Nb4,Rcd8,Rd3,a5,Rxd8,Rxd8,Nc2,Rd2,Ne3,g6,Nc4,Re2,Nxa5,Rxb2,Rd1,c5,Rd8+,Kg7,Rd7+,Kf6,Rxb7,Rxb7,Nxb7,c4,Kf1', 'c3,Na5,c2,Nb3,Nd2+', 'https://lichess.org/training/WvUrV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVWGR', 'Blitz', 'Amoh555', 1688, 'SaddamHussien', 1890, 'e4,d5,exd5,Qxd5,Nc3,Qd4,Nf3,Qb6,d4,Qe6+,Be2,Nf6,Ng5,Qf5,Nb5,Nd5,c4,a6,Bg4', 'Qxg4,Qxg4,Bxg4,cxd5,axb5', 'https://lichess.org/training/WVWGR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVXg8', 'Classical', 'Miltinho', 1760, 'NoFiSamizdat', 1724, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e5,Nf5,b5,Bd5,Bb7,Bg5,g6,Nd6+,Bxd6,Bxf7+,Kxf7,Qxd6,Nd4,O-O-O,h6,Qxe5,Nc6,Rxd7+,Nxd7', 'Qd5+,Kg7,Bxd8', 'https://lichess.org/training/WVXg8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wvyDb', 'Rapid', 'kamalist', 1890, 'reyjohnny11', 1899, 'e4,e6,d4,d5,exd5,exd5,Bd3,c5,dxc5,Bxc5,Nc3,Nf6,Nge2,Bg4,f3,Bh5,Bg5,O-O,g4,Bg6,Bxg6,fxg6,Nxd5', 'Qxd5,Qxd5+,Nxd5', 'https://lichess.org/training/wvyDb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WVYsg', 'Rapid', 'Waheed0811', 1609, 'UsmanRX', 1601, 'e4,e5,Bc4,Nf6,d3,Bb4+,c3,Bc5,Ne2,O-O,O-O,Nc6,b4,Be7,f4,d6,f5,a5,b5,Na7,a4,c6,Be3,cxb5,axb5,d5,exd5,Nxd5,Bxa7,Rxa7,Ng3,Ne3,Qf3,Nxf1,Nxf1,Bc5+,Kh1,Re8,Qh5,g6', 'fxg6,hxg6,Qxg6+', 'https://lichess.org/training/WVYsg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WW1ye', 'Rapid', 'AlminesPawnattacker', 1897, 'Lovcii', 1999, 'd4,e6,c3,c5,Nf3,Nf6,Bg5,d5,e3,cxd4,cxd4,Nc6,Bd3,Bb4+,Nc3,O-O,O-O,Re8,Ne5,h6,Bh4,Be7,f4,a6,Rc1,Nb4,Bb1,Bd7,a3,Nc6,Qd3,Na5,Bxf6,Bxf6,Na4,Bb5,Qh7+,Kf8,Rfe1,Bxa4,b4,Nc6,Rc5,Rc8,Rec1,Qb6', 'Nd7+,Ke7,Nxb6', 'https://lichess.org/training/WW1ye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WW2yY', 'Blitz', 'HarryPress1', 2470, 'NM Re_dei_matti', 2418, 'e4,d5,exd5,Nf6,d4,Bg4,f3,Bf5,g4,Bg6,c4,e6,Nc3,exd5,g5,Nfd7,Nxd5,c5,Qe2+,Be7,Qxe7+,Qxe7+,Nxe7,Kxe7,d5,Re8,Kf2,Ne5,Be3,Nbd7,Nh3,Bd3,Nf4,Bxc4,Bxc4,Nxc4,Rhe1,Nxe3,Rxe3+,Kd6,Rae1,Rxe3,Rxe3,Nb6,b3,Rd8,Ke2,Rd7,Re8,Nxd5,Nxd5,Kxd5,Rh8,Ke5,Rxh7,g6,Ke3,Kf5,h4,b5,Rh8,Rc7,Rd8,a5,Rd5+,Ke6,Ke4,a4,bxa4,b4,Re5+,Kd6,Rd5+,Kc6,f4,Re7+,Re5,Rd7,f5,Rd4+,Ke3,Rxh4,fxg6,fxg6,Re6+,Kd5,Rxg6,Ke5,Rg8,Rh3+,Kd2,c4,g6,c3+,Kc2,Rh2+,Kb3', 'Rb2+,Kc4,c2', 'https://lichess.org/training/WW2yY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wW361', 'Rapid', 'little_beetle', 1602, 'Netkachev-1969', 1803, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Bxf6,gxf6,Na3,b5,Nd5,Bg7,Be2,O-O,O-O,Kh8,Bh5,f5,Qf3,Qg5,exf5,Nd4,Qd1,Bxf5,Ne3,Be4,c3,Ne6,Bf3,Bxf3,Qxf3,f5,Nac2,Nf4,Rad1', 'e4,Qxf4,Qxf4', 'https://lichess.org/training/wW361');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wW3Qe', 'Classical', 'Glemeleto', 1710, 'bkkuiper', 1706, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Qd4,Nf6,e5,Nd5,e6,f6,exd7+,Qxd7,Bc4,e6,O-O,c5,Qd3,Nb6', 'Bb5,c4,Bxd7+', 'https://lichess.org/training/wW3Qe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ww48z', 'Rapid', 'Junior1234', 1925, 'papuas2500', 1817, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Bg4,Be2,Bxe2,Qxe2,Nbd7,Bg5,Be7,O-O-O,O-O,f4,h6,h4,Nh7,Bxe7,Qxe7,g4,f6,g5,fxg5,hxg5,hxg5,Rxh7,Kxh7,Qh5+,Kg8,Rh1,gxf4,Qh7+,Kf7,Nd5,Qg5,Nf3,Qg6,Qh4,Rae8', 'Ng5+,Qxg5,Qxg5', 'https://lichess.org/training/ww48z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ww4DD', 'Rapid', 'bratancb', 1972, 'A_FanaT_A', 1908, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Be2,Bf5,O-O,Nd7,c4,O-O-O,b4,h5,Nbd2', 'Nc3,Qb3,Nxe2+', 'https://lichess.org/training/Ww4DD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WW8VA', 'Classical', 'ripir', 1732, 'Lalu_Iwan', 1706, 'd4,e6,Bf4,d5,Nf3,Nf6,e3,c6,Bd3,Nbd7,c4,Be7,c5,Nf8,Ne5,Ng6,Nxg6,fxg6,Be5,O-O,Nd2,Ne4,Nxe4,dxe4,Bxe4,Bf6,Bg3,Rf7,Qe2,b6,Bxc6,Bb7,Bxb7,Rxb7,Bd6,bxc5,Bxc5,Qa5+,b4,Rxb4,Bxb4,Qxb4+,Qd2,Qc4,Qe2', 'Qc3+,Qd2,Qxa1+', 'https://lichess.org/training/WW8VA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wW9S9', 'Rapid', 'Mohammad-324', 1647, 'Shomy019', 1642, 'e3,Nf6,b3,e5,Bb2,Nc6,Nf3,e4,Ng5,d5,Bb5,h6,Bxc6+,bxc6,Nh3,Bxh3,gxh3,Bd6,Nc3,Qe7,Na4,Ba3,Qe2,Bxb2,Nxb2,Qf8,Qa6,Qc5,O-O-O,Qb5,Qa3,c5,Na4,Qb4,Qb2,Rb8,Qe5+,Kd8,Rhg1,Rg8,Nc3,c4,Nxd5,Nxd5,Qxd5+,Ke7,Qxe4+,Kf8,Qxc4,Qa3+,Kb1,Rb4,Qc5+,Ke8,c3', 'Rxb3+,axb3,Qxc5', 'https://lichess.org/training/wW9S9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWAEY', 'Rapid', 'SamehMohamed1', 1731, 'Samaritean', 1732, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Bc4,Bg7,Be3,Nf6,Nc3,O-O,O-O,a6,Nxc6,dxc6,Qf3,Bg4,Qg3,Bh5,Bg5,Qa5,Bxf6,Bxf6,a3,Bxc3,bxc3,Qc5,Bd3,Qxc3,e5,Rad8,Qf4,Rd4,Qg5,Rg4,Qxe7,c5,Qxb7,Qxe5,Qxa6', 'Rxg2+,Kxg2,Qg5+,Kh1,Bf3#', 'https://lichess.org/training/WWAEY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWAM0', 'Rapid', 'chrisproll', 1661, 'dejson', 1632, 'e4,e5,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Nc3,Be6,Bd2,Nc6,O-O-O,Ke7,Nd5+,Kd6,Bb4+,Nxb4,Nxb4+,Ke7,Nd5+,Kd6,Nf4+,Ke7,Nxe6,Kxe6,Bc4+,Kf6,Nf3,Bd6,Bd5,c6,Bxf7,Kxf7,Rxd6,Nf6,Nxe5+,Ke7,Rhd1,Nxe4,Rd7+,Ke6,Ng4,Rhf8,f3,Nf6,Nxf6,Kxf6,Rxb7,Rfc8,Rdd7,Rg8,Rd6+,Ke5,Rxc6,Kd4,Rd7+,Ke3,Rc3+,Kf2,Rd2+,Ke1,Re3+,Kf1,Ree2,Kg1,g4,Kf1,Rf2+,Ke1,Rg2,Kf1,Rdf2+,Ke1,Re2+,Kf1,Ref2+,Ke1,Re2+,Kf1,Rd2,Rge8,Rdf2+,Ke1,Rd2,Kf1,h4', 'Re1+,Rd1,Rxd1+,Kxd1,Kxg2', 'https://lichess.org/training/WWAM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WwarX', 'Rapid', 'salaheddine39', 1720, 'sofiane2602', 1716, 'Nf3,Nf6,d4,g6,c4,Bg7,Nc3,O-O,e4,d6,Bd3,c5,dxc5,dxc5,O-O,Nc6,Bg5,Ng4,Nd5,h6,Bf4,Nge5,Nxe5,Nxe5,Bg3,e6,Nf4,g5,Nh5,Qxd3,Bxe5', 'Qxd1,Raxd1,Bxe5', 'https://lichess.org/training/WwarX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wWbIW', 'Rapid', 'jitendrachaubey89', 1890, 'kamylko', 1956, 'e3,e5,c3,d5,Qa4+,Bd7,Qb3,Bc6,d4,e4,Nd2,Nf6,c4,Be7,cxd5,Bxd5,Qb5+,c6,Qa4,O-O,g3,Re8,Bg2,Nbd7,Ne2,Nb6,Qc2,Qc7,b3,a5,Nc3,h6,O-O,Bb4,Ncxe4,Nxe4,Nxe4,f5,Nc3,Bxg2,Kxg2,g6,Ne2,Re6,Bd2,Bxd2,Qxd2,Nd5,Nc3,Nxc3,Qxc3,Rae8,b4,axb4,Qxb4,b5,Rac1,Qb6,a4,Qb7,axb5', 'c5+,Kg1,cxb4', 'https://lichess.org/training/wWbIW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wWbS8', 'Rapid', 'voyanedelm', 1896, 'abdulvahid', 2050, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,b6,Nf3,Bb7,e3,O-O,Bd3,d6,O-O,Nbd7,Qc2,e5,e4,Re8,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Qe7,Qe2,Qf8,Qf3,Qg7,Qf5,Bc8,Bxf6,Nxf6,Qf3,Kh8,Rfe1,Rg8,Re3,Bg4,Qg3,Rae8,Qh4+,Nh7,Rg3,Qf6', 'Rxg4,Rxg4,Qxg4', 'https://lichess.org/training/wWbS8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wwccr', 'Rapid', 'Emeri', 1606, 'elmasmalo', 1716, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nc3,Nxf3+,Qxf3,Qf6,Qe3,c6,O-O,b6,f4', 'Bc5,Qxc5,bxc5', 'https://lichess.org/training/wwccr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWCFW', 'Rapid', 'ahmedwalid121771', 1688, 'leonardochoppers', 1654, 'e4,c5,Nf3,e6,d4,d5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,dxe4,Ne5,Nxe5,dxe5,Qc7,f4,c4,Nc3,Rd8,Qe2,Bc5+,Kh1,f5,exf6,Nxf6,Nxe4,Nxe4,Qxe4,Rd4,Qxe6+,Be7,Be3,Rd6,Qe4,Kd8,Rfd1,Kc8,Rxd6,Bxd6,Qe6+,Kb8,g3', 'Qc6+,Kg1,Re8,Qxe8+,Qxe8', 'https://lichess.org/training/WWCFW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wWCOz', 'Rapid', 'ramonching816roxas', 2073, 'Kliao', 2116, 'e4,d6,d4,g6,c4,Bg7,f4,c5,d5,e6,Nc3,Nf6,Bd3,O-O,Nge2,Re8,O-O,exd5,exd5,Bg4,h3,Bxe2,Nxe2,Nbd7,f5,Ne5,fxg6,hxg6,Bg5,Qe7,Ng3,Nxd3,Qxd3,Qe5,Bf4,Qe7,Bg5,Qe5,Bf4,Qe7,Qd2,Ne4,Nxe4,Qxe4,Bxd6,Qxc4,Rac1,Qd4+,Qxd4,Bxd4+,Kh1,b6,Bc7,Rac8,d6,Rxc7,dxc7,Bxb2,Rcd1,Bd4,Rfe1,Rc8,Re7,Kf8,Rde1,Kg7,Rd7,Bf6,Rf1,c4,g4,c3,g5,Bxg5,Rfxf7+,Kg8,Rg7+,Kf8,Rh7,Ke8,Rd3', 'c2', 'https://lichess.org/training/wWCOz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wwczU', 'Rapid', 'Donarber', 1722, 'lioandsefe', 1737, 'e4,e5,Nf3,f5,d3,d6,exf5,Bxf5,Nc3,Nf6,Bg5,Be7,Qd2,O-O,O-O-O,Nc6,a3,Rb8,Bxf6,Bxf6,Nd5,Be6,Nxf6+,Qxf6,Qg5,Qxg5+,Nxg5,Bf5,f3,h6,Ne4,Nd4,Rd2,b6,Nc3,c5,Ne2,Nxe2+,Rxe2,Rfe8,Kd2,d5,Re1,a6,Be2,b5,Bd1,g5,Re3,Re6,Rhe1,Rbe8,g3,Kf7,c3,e4,fxe4,dxe4,dxe4,Rxe4', 'Bh5+,Kf6,Bxe8', 'https://lichess.org/training/wwczU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wWdA6', 'Rapid', 'jbsay', 1806, 'mica44110', 1769, 'd4,d5,Nf3,Nc6,e3,Nf6,c3,Bg4,h3,Bh5,Bd3,e5,dxe5,Nxe5,Be2,Bd6,O-O,O-O,Nxe5,Bxe2,Qxe2,Bxe5,Nd2,c6,Nf3,Bc7,b3,Ne4,Bb2,Qd6,Rad1,g5,c4,h5,cxd5,g4,dxc6', 'gxf3,Rxd6,fxe2', 'https://lichess.org/training/wWdA6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WwdNJ', 'Rapid', 'ronniak2', 1971, 'Is-arq', 1809, 'e4,e6,f4,d5,Nf3,c5,exd5,exd5,c4,d4,d3,Nf6,Nbd2,Bd6,Nb3,O-O,Ne5,Re8,Be2,b6,O-O,Bb7,Bf3,Qc7,Ng4,Nbd7,f5,Bxf3,Qxf3,Nxg4,Qxg4,Nf6,Qh3,h5,Bg5,Ng4,Qxh5,Nxh2,f6,g6', 'Qh6,Bf8,Qxh2,Qxh2+,Kxh2', 'https://lichess.org/training/WwdNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wwdvi', 'Rapid', 'de-99', 2203, 'Shrihari28', 2256, 'e4,d6,Nf3,g6,d3,Bg7,Nbd2,c5,g3,Nc6,Bg2,e6,O-O,Nge7,Re1,O-O,h4,Re8,Nf1,d5,e5,Qc7,Bf4,h6,Qe2,Nf5,N1h2,b6,c3,Ba6,Qd2,Kh7,g4,Nfe7,Bg3,Rad8,h5,gxh5,g5,Nf5,Bf4,Nce7,gxh6,Bh8,Ng5+,Kg8,h7+,Kf8,Bf3,Ng6,Bxh5,Ke7,Bxg6,fxg6,Ng4,Kd7,Nf7,Nh4,Qe2,Rf8,Nxh8,Rxf4,Nf6+,Kc8,Qe3,Nf3+,Kf1,Nxe1,Rxe1,Rxf6', 'exf6,Bxd3+,Qxd3', 'https://lichess.org/training/Wwdvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WwDzo', 'Blitz', 'Pablo_go', 2256, 'FM mrios', 2506, 'e4,c5,Nc3,d6,f4,Nc6,Nf3,e6,Bc4,Nf6,O-O,Be7,d3,a6,Qe1,Na5,Bb3,Nxb3,axb3,O-O,h3,Rb8,g4,b5,Ne2,Ne8,Ng3,g6,f5,Ng7,Bh6,f6,fxe6,Bxe6,Rxa6,Ra8,Rxa8,Qxa8,Bxg7,Kxg7,Qf2,Qa2,Qg2,Qxb2,Nf5+,Bxf5,exf5,Qc3,Qe2,Rf7,Nh4,g5,Nf3,d5,Rf2,c4,bxc4,dxc4,Kg2,cxd3,Qxd3,Qxd3,cxd3,Bd6,Rb2,Rb7,Rb3,b4,Nd4,Kf7,Kf3,Rb6,Ke4,Bf8,Ne6,Be7,d4,Ra6,d5,Ra1,Kd4,Rd1+,Kc4,Rc1+,Kb5,h5,Rd3,Bd6,Nd8+,Ke8,Nb7,Kd7,gxh5,Rc3,Rd2,Rxh3,Nxd6,Kxd6,Kxb4,Rh4+,Kc3,Rxh5,Re2,Kxd5,Re6,Rh6,Kd3,g4,Ke3,g3,Kf3,g2,Kxg2,Rh5,Rxf6,Ke5,Rg6,Kxf5,Rg3,Rh8,Rf3+,Ke4,Rg3,Ra8,Kh3,Rh8+,Kg2,Rc8,Rf3,Rc1,Rf2,Rc3,Re2+,Kd3,Rf2,Rc6,Rf3+,Ke2,Rg3,Rf6,Kh3,Rh6+,Kg4,Kf2,Kf4,Rf6+,Kg5,Rf8,Rg4,Kf3,Kh5', 'Rh8+,Kg5,Rg8+', 'https://lichess.org/training/WwDzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWezY', 'Rapid', 'rafasobr', 1855, 'Slavic98', 1964, 'd4,d5,e3,c5,c4,cxd4,exd4,e5,Be3,Nc6,c5,exd4,Bxd4,Nxd4,Qxd4,Nf6,Nc3,Be6,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Qe6+,Ne2,b6,cxb6,axb6,Ng5,Qc6,Rc1,Bc5,Qe5+,Kd7,O-O,Rhe8,Qf5+,Kc7,Qf4+,Kb7,Nd4,Qa4,Rfd1,h6,b3,hxg5,Qxg5,Qxa2,Qxg7,Ne4', 'Qxf7+,Re7,Qxd5+', 'https://lichess.org/training/WWezY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWfGj', 'Classical', 'moknights', 1844, 'windofroad', 1758, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,e6,O-O,Nd7,Nc3,Ngf6,Bg5,Be7,Nb5,O-O,a3,a6,Nc3,Bf5,Re1,Rc8,Ne5,Nb6,Bxf6,Bxf6,Bg4,Bxg4,Nxg4,Bg5,Qd3,Nc4,b3,Nd6,Na4,Ne4,Rxe4,dxe4,Qxe4,Re8,c3,f5,Qxb7,fxg4,Nc5,Rc7,Qe4,Rf7,g3,Qf6,Rf1,Qf3,Qc2,h5,Ne4,Be7,a4,h4,gxh4,Qf4,Kg2,Bxh4,c4,Ref8,Qe2,g3,hxg3,Bxg3,Nxg3,Qxd4,Qxe6,Qd8,Rh1,Qa8+,Ne4', 'Re8,Qd5,Qxd5', 'https://lichess.org/training/WWfGj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wwfip', 'Blitz', 'Quiet_Ghost', 1677, 'Erspedro', 1684, 'd4,d5,Bf4,c6,e3,Bf5,Nf3,e6,c4,Bd6,Bg3,Bxg3,hxg3,Bg6,Nc3,Nd7,Nh4,Qb6,Nxg6,fxg6,Rb1,O-O-O,Qg4,c5,cxd5,exd5,Nxd5,Qa5+,Kd1,cxd4,Qxd4,Kb8,Bc4,Nb6,e4,Nf6,Qe5+,Kc8,Qe6+,Nbd7,Ke2,Nxd5,Bxd5,Rhe8,Rbc1+,Kb8,Qd6+,Ka8,Qc7,Qxc7,Rxc7,Nb6,Bxb7+,Kb8,Rxg7,Nc4,Rhxh7,Rd2+,Kf3,Rf8+,Kg4,Ne5+,Kh3,Rd1,Kh2,Rf1,Bd5,R1xf2,Rb7+,Kc8,Rhc7+,Kd8,Rxa7,Nf3+,Kh3,Rh8+,Kg4', 'Ne5+,Kg5,Rh5#', 'https://lichess.org/training/Wwfip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWGio', 'Blitz', 'IM Novoselski', 2410, 'Solaris_EternalSun', 2598, 'e4,c5,Nf3,Nc6,Nc3,g6,Bc4,Bg7,O-O,d6,d3,Nf6,h3,O-O,a3,Rb8,Ba2,b5,Be3,a5,Qd2,b4,axb4,axb4,Nd5,Nxd5,Bxd5,Bd7,c3,e6,Bc4,bxc3,bxc3,Re8,d4,cxd4,cxd4,Ne7,Rab1,Rxb1,Rxb1,d5,exd5,exd5,Bd3,Bf5,Bg5,f6,Bf4,Bf8,Rb7,Bxd3,Qxd3,Nf5,Qb5,Re7,Rb8,Qd7,Qb6,Kf7,g4,Ng7,Rd8,Qe6,Qxe6+', 'Nxe6,Rxd5,Nxf4', 'https://lichess.org/training/WWGio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wWgZP', 'Rapid', 'mod1234', 1629, 'Chrisnzuks', 1653, 'e4,c5,Nc3,e5,Nf3,d6,Bc4,h6,O-O,Nf6,h3,Be7,d3,Nc6,Nd5,O-O,Bd2,Nxd5,Bxd5,Nd4,c3,Nxf3+,Qxf3,Rb8,Be3,Be6,b4,Bxd5,exd5,f5,bxc5,f4,cxd6,fxe3,dxe7,exf2+,Rxf2,Qxe7,Qh5,Rxf2,Kxf2,Rf8+,Kg1,Qc5+,Kh2,Qxc3,Rb1,Qxd3,Qxe5,Qxb1,Qe6+,Kh7,d6,Qc1,d7,Qf4+,Kh1,Rf6,Qe8,Qg3', 'Qe4+,Qg6,Qxg6+,Rxg6,d8=Q', 'https://lichess.org/training/wWgZP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WwHJG', 'Blitz', 'GrandpaOfMzllo', 2428, 'FM Felix_Kuznetsov', 2574, 'd4,Nf6,Nf3,d5,Nc3,c5,Qd3,Nc6,e3,Nb4,Qe2,Bf5,Ne5,Nxc2+,Qxc2,Bxc2,Bb5+,Qd7,Nxd7,Nxd7,Nxd5,O-O-O,Bd2,e6,Nf4,Kb8,Rc1,Bf5,Bxd7,Rxd7,dxc5,e5,Nh5,Bg6,Ng3,Be7,Bc3,f6,b4,Rhd8,O-O,h5,f4,h4,Ne2,Bd3,Rf2,Bb5,fxe5', 'Rd1+,Rxd1,Rxd1+,Rf1,Bxe2,Rxd1,Bxd1', 'https://lichess.org/training/WwHJG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wwi90', 'Rapid', 'MO-AM', 1886, 'CornelCornelius', 1931, 'e4,c5,Nf3,e6,d4,Qc7,Be2,h6,O-O,Be7,Nc3,a6,Be3,d6,Qd2,b6,a4,Bb7,b3,Nd7,Bc4,Bg5,Bxg5,hxg5,Qxg5,Ngf6,d5,e5,Bd3,Rh5,Qg3,O-O-O,Ng5,Rdh8,Nxf7,Rxh2,Nxh8,Rxh8,Be2,Qd8,Bf3,Qf8,Ne2,Rh6,Qg5,Qh8,g3,Kb8,Bg2,Nf8,Qf5,Bc8,Qf3,Ng6,Qd3,Rh2,f3,Bh3,Rf2', 'Bxg2,Rxg2,Rh1+,Kf2,Rxa1', 'https://lichess.org/training/Wwi90');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wwjFm', 'Rapid', 'SamFF', 1737, 'E_Onegin', 1773, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,Re1,Be7,d4,exd4,Nxd4,b5,Nxc6,Qd7,Nxe7,Qxe7,Bb3,O-O,Bg5,Qe5,Bc1,Ng4,f4', 'Qc5+,Re3,Nxe3,Bxe3,Qxe3+', 'https://lichess.org/training/wwjFm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wwJOD', 'Blitz', 'tireks88', 1975, 'OptimalState', 1877, 'e4,b6,d4,Bb7,Bd3,e6,c4,Bb4+,Nd2,Bxd2+,Qxd2,Nf6,f3,O-O,Ne2,d5,cxd5,exd5,e5,Ne8,O-O,f6,f4,fxe5,fxe5,Rxf1+,Kxf1,Nc6,Kg1,g6,a3,Ng7,Nf4,Nxd4,Rb1,Nb3,Qc3,Nxc1,Rxc1,g5,Nh5,Nxh5,e6,c5,Qe5,Qf6,Qc7,Qd4+,Kh1,Qxd3,Qf7+,Kh8,e7,Qe3', 'Qf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/wwJOD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wWKrR', 'Classical', 'Goezinho', 1536, 'Argonaut71', 1534, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,Bg4,d3,Qe7,h3,Bxf3,Qxf3,O-O-O,Bd5,Nd4,Qd1,Nf6,Be3,Nxd5,exd5,Kb8,O-O,c5,Bxd4,exd4,Nb5,Qd7,Na3,Be7,c4,dxc3,bxc3,Bf6,Qc2,Rhe8,Rab1,b6,c4,a6,Nb5,axb5,Rxb5,Qa7,a4,Rd7,a5,Rb7,axb6,Rxb6', 'Rxb6+,Qxb6,Rb1,Qxb1+,Qxb1+', 'https://lichess.org/training/wWKrR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wWkZP', 'Blitz', 'user_silva2002', 2335, 'IM Parkour1', 2377, 'd4,Nf6,Bf4,e6,e3,c5,c3,Nc6,Nd2,Be7,Ngf3,O-O,Bd3,d6,h3,cxd4,cxd4,Re8,a3,Bf8,Bh2,e5,Qb1,exd4,O-O,dxe3,fxe3,Rxe3,Nc4,Re8,Ng5,h6', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/wWkZP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wWLeL', 'Rapid', 'Eric9898', 1745, 'aqadi', 1837, 'e4,e6,d4,d5,Nf3,dxe4,Nfd2,Qxd4,Nc3,Bb4,Ne2,Bxd2+,Bxd2,Qxb2', 'Bc3,Qa3,Bxg7', 'https://lichess.org/training/wWLeL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWMsi', 'Blitz', 'sensizolmz', 1999, 'madashell1', 1966, 'Nf3,a6,e4,b5,d4,Bb7,a4,bxa4,d5,e6,Rxa4,exd5,exd5,Nf6,Bg5,Be7,Rh4,Nxd5,Bxe7,Nxe7,Qd4,O-O,Bd3,Ng6,Bxg6,fxg6,Nbd2,Bxf3,Nxf3,Nc6,Qd5+,Kh8,O-O,Qf6,Qxd7,Qd6,Qh3,h6,Re1,Rae8,Rxe8,Rxe8,Ng5,Rf8', 'Rxh6+,gxh6,Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/WWMsi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WwNCG', 'Rapid', 'filipyd2', 1636, 'Greg54', 1638, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bb5,Ne7,O-O,g6,Re1,Bg7,Bxc6+,bxc6,Bg5,f6,Bc1,O-O,b3,Ba6,Ba3,Re8,c4,dxc4,bxc4,Bxc4,Nbd2,Bd5,Nb3,Nf5,Rxe8+,Qxe8,Nc5,Nd6,Qd2,Qf7,Re1,Nc4,Qc1,Nxa3,Qxa3,Bxa2,Qa5,Bd5,Rb1,g5,Rb7,Rc8,h3,Bxf3,gxf3,Qd5,Rxa7,Qxf3,Rxc7,Qd1+,Kh2,Re8,Rxg7+,Kxg7,Qc7+,Kg8,Nd7,Qxd4,Qxc6,Qf4+,Kg1,Re1+,Kg2,Qe4+', 'Qxe4,Rxe4,Nxf6+,Kg7,Nxe4', 'https://lichess.org/training/WwNCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWOFR', 'Rapid', 'avsut', 1678, 'maroks', 1653, 'e4,d5,Nf3,dxe4,Ng5,Bf5,Qe2,Nf6,Nc3,Bg4,f3,exf3,gxf3,Bh5,Bg2,h6,Nh3,e6,Nf4,Bb4,Nxh5,Nxh5,Qb5+,Nc6,Qxh5,Bxc3,bxc3,g6,Qb5,Rb8,Bb2,O-O,O-O-O,a6,Qc4,Ne5,Qd4,Qg5,Rhg1,Rfd8,Qc5', 'Nd3+,cxd3,Qxc5', 'https://lichess.org/training/WWOFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWpjc', 'Rapid', 'nhardy', 1729, 'Indra73', 1771, 'e4,Nc6,Nf3,e5,Bb5,Nd4,Nxd4,exd4,O-O,Qg5,Bc4,b6,d3,Qh4,Nd2,Bb7,Nf3,Qd8,Nxd4,Bc5,Nf5,Qf6,Re1,O-O-O,d4,Bf8,Qg4,Kb8,Bg5,Qc6,Bxd8,Qxc4,c3,g6,Ne3,Qb5,Qf4,Bd6,Qxf7,Qh5,Qg7,Qxh2+,Kf1,Bxe4,Qxh8', 'Bd3+,Re2,Qh1#', 'https://lichess.org/training/WWpjc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wWpre', 'Blitz', 'TluangaMizo', 1746, 'fspao', 1757, 'e4,c6,d4,d5,e5,Bf5,Nf3,h6,Bd3,Bxd3,Qxd3,e6,Nc3,Bb4,Bd2,c5,a3,c4,Qe2,Ba5,b4,cxb3,cxb3,Nc6,b4,Bb6,Be3,Nge7,Na4,Nf5,Nc5,Bxc5,bxc5,O-O,O-O,Na5,Nd2,b6,cxb6,axb6,Rab1,Rc8,Rfc1,Rxc1+,Rxc1,Qh4,Nf3,Qe7,Qd2,Nc4,Qd3,Nfxe3,fxe3,Ra8,Nd2,Rxa3,Qb1,Nxd2', 'Rc8+,Qf8,Rxf8+,Kxf8,Qb4+', 'https://lichess.org/training/wWpre');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWpsB', 'Rapid', 'InvisibleMan19', 1740, 'davidjones103', 1710, 'd4,Nf6,f3,d5,e4,c6,Nc3,e6,Bd3,dxe4,Bxe4,Nxe4,fxe4,Bb4,Nf3,O-O,O-O,Qb6,Be3,Nd7,Qd2,Qc7,Bf4,Qd8,e5,Nb6,Qd3,h6,a3,Bxc3,bxc3,Nd5,Qd2,Qa5,Bxh6,Qxc3,Bxg7', 'Qxd2,Nxd2,Kxg7', 'https://lichess.org/training/WWpsB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WwqFa', 'Rapid', 'heshamjoon', 1975, 'Cloud70000', 1980, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Qd5,Nf6,Qb3,h6,O-O,e5,Re1,Be7,Bc4,O-O,Qxb7,Bg4,Qxc6,Bxf3,gxf3,Rc8,Qb5,Rc5,Qb3,Nd7,Be3,Rc8,Ba6,Rb8,Qa3,Nc5,Be2,Qc8,Kh1,Ne6,Rg1,Bg5,c3,Nf4,Bf1,d5,exd5,Nxd5,Bxg5,hxg5,Rxg5,f6,Rh5,Qb7,Bc4,g6,Rh3,Kg7,Nd2,Nf4,Rg3,Rh8,Rag1', 'Rxh2+,Kxh2,Rh8+,Rh3,Rxh3#', 'https://lichess.org/training/WwqFa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wWqgN', 'Rapid', 'Ismoil2012', 1719, 'Jumabay', 1720, 'd4,c6,c4,g6,Nc3,Bg7,Nf3,d6,e3,Nf6,Bd3,O-O,h3,Nbd7,Ne4,h6,Nxf6+,Nxf6,O-O,Bd7,Nh2,Qc8,Qf3,d5,c5,b6,cxb6,axb6,Ng4,Nxg4,hxg4,Bxg4,Qg3,c5,f3,Be6,dxc5,bxc5,e4,Ra4,b3,Rd4,Bc2,Qd8,a3,c4,Be3,dxe4,Bxd4,Bxd4+,Kh1,Bxa1,Rxa1,Qd2,Bxe4,cxb3,Qe5,b2,Rb1,Qc1+,Kh2,Kh7,Rxb2,Qg5,Qxg5,hxg5,a4,Bf5,Bc6,Rc8,Bb5,Rb8,g4,Bd7,Kg3,e5', 'Rh2+,Kg7,Bxd7', 'https://lichess.org/training/wWqgN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wWUgv', 'Rapid', 'XAT123', 1832, 'omoueza', 1805, 'd4,d5,c4,Bf5,Nc3,e6,Nf3,a6,a4,c5,cxd5,exd5,dxc5,Nf6,Bg5,Nbd7,Nxd5,Qa5+,Qd2', 'Qxd2+,Bxd2,Nxd5', 'https://lichess.org/training/wWUgv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wwv0P', 'Classical', 'themanwhohasdreams', 1673, 'tsavorite4', 1687, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,b6,e4,c5,e5,Ng4,h3,cxd4,Ne2,Nxe5,Nxe5,Bxe5,Nxd4,Bb7,Nf3,Bg7,Bd3,e5,Qe2,O-O,O-O,Re8,Be4,Bxe4,Qxe4,Nc6,Ng5,Ne7,Qh4,h6,Ne4,Nf5,Qg4,b5,f4,bxc4,fxe5,Rxe5,Ng3,Qb6+,Kh1,d5,Nxf5,gxf5,Rxf5,Re1+,Kh2,Qg1+,Kg3,Qb6', 'Bxh6,Qxh6,Rxe1', 'https://lichess.org/training/Wwv0P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wwvB4', 'Classical', 'rajuchiluka11', 1767, 'OldNoobBR', 1766, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,d4,cxd4,Nxd4,e5,Nf5,a5,Nd2,Ne7', 'Nd6#', 'https://lichess.org/training/wwvB4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWwID', 'Rapid', 'aabdullah014', 1646, 'Rileybrown456', 1624, 'c4,c5,g3,Nc6,Bg2,e6,e3,d5,cxd5,exd5,Nc3,Nf6,Qa4,Bd7,Qb3,c4,Qb5,Nb4,Qxb7,Nc2+,Kf1,Nxa1,Bxd5,Nxd5,Nxd5,Rb8,Nc7+,Ke7,Qe4+,Be6,b3,Qxc7,Ba3+,Kf6,Qh4+,g5,Bb2+,Kg6,Qe4+,Bf5,Qg2,Nc2,h4,Bd3+,Ne2,cxb3,h5+,Kh6,f4,Bxe2+,Kxe2,Qc4+,Kf2,gxf4,g4,fxe3+,dxe3,Rg8,Bf6,Rxg4,Qf3,Bc5,Bd4,Nxd4', 'Qf6+,Rg6,hxg6#', 'https://lichess.org/training/WWwID');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWxLS', 'Blitz', 'Evidently', 2326, 'ousous', 2260, 'e4,g6,d4,Bg7,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,O-O,Be3,c6,c3,Bg4,Be2,e6,Qd2,Nbd7,Bh6,b5,h3,Bxf3,Bxf3,Nd5,h4,Bxh6,Qxh6,Qf6,h5,Qg7,Qd2,a5,hxg6,hxg6,Ne4,N7f6,Ng5,a4,O-O-O,Rac8,Rh3,c5,Rdh1,cxd4,Qxd4,b4,Bxd5,Nxd5', 'Rh8+,Qxh8,Rxh8#', 'https://lichess.org/training/WWxLS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WWZ68', 'Classical', 'KESHAVARORA', 1912, 'P0L83', 1940, 'e4,c5,b3,Nc6,Bb2,d6,Be2,Nf6,d3,e5,Nd2,Be7,Ngf3,O-O,O-O,h6,h3,Nh7,Nc4,b5,Na3,a6,c4,b4,Nc2,f5,exf5,Bxf5,Ne3,Qd7,Nd5,Rab8,Kh2,Ng5,a3,Bxh3,Nxe7+,Nxe7,Nxg5,Bxg2,Kxg2,hxg5,axb4,Ng6,Bg4,Nf4+,Kg3,Qb7,Bf3,Qd7,Bd5+,Nxd5,cxd5,Rxb4,Bc1,Qf5,Ra4,Rxb3,Qxb3,Qf3+,Kh2,g4,Qd1,g3+,fxg3,Qxf1,Qxf1,Rxf1,Bg5,Rd1,Rxa6,Rxd3,Rxd6,c4,Rd8+,Kf7,d6,Ke6,Be7,c3,Rc8,Rd2+,Kh3,c2,Kh4,e4,Kh5,e3,Bg5,Rh2+,Kg6,Rg2,Re8+,Kxd6,Rxe3,c1=Q', 'Rd3+,Ke5,Bxc1', 'https://lichess.org/training/WWZ68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wwzuq', 'Rapid', 'yet_another_judit', 2013, 'power_mind', 2006, 'd4,Nf6,c4,g6,Nc3,Bg7,g3,O-O,Bg2,d6,Nf3,Nbd7,O-O,e5,dxe5,dxe5,Bg5,c6,Qd6,Re8,Rad1,Re6,Bxf6,Bxf6,Qa3,Be7,Qa4,Qc7,b4,Nb6,Qb3,Bf8,c5,Nd7,Ng5,Re7,Nce4,h6,Nf3,Bg7,Rd6,Nf8,Rfd1,Be6,Qa3,f5,Nc3,e4,Nd4,Be5,b5,cxb5,Ncxb5,Qc8,Nxe6,Nxe6,R6d5,Nc7,Nd6,Bxd6', 'cxd6,Nxd5,dxe7', 'https://lichess.org/training/wwzuq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wx06z', 'Rapid', 'chinmay1995', 1648, 'UM42', 1652, 'e4,e5,Nf3,Nf6,Bc4,Nc6,d3,h6,c3,Bc5,a4,a6,O-O,O-O,b4,Ba7,Qc2,d5,exd5,Nxd5,Qb3,Nf4,Ra2,b5,axb5,axb5,Bxb5,Be6,c4,Ne7,Nxe5,Neg6,Nxg6,Nxg6,Be3,Bxe3,Rxa8,Bxf2+,Rxf2,Qxa8,d4,Qe4,d5,Bf5,Nd2,Qe1+,Nf1,Ra8,Rxf5,Ra1,Qf3,f6,Be8', 'Nh4,Qf2,Nxf5', 'https://lichess.org/training/Wx06z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wx0jY', 'Blitz', 'analista128', 2058, 'WFM yale05', 2062, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,d4,c5,Nc3,cxd4,Bc4+,Be6,Qxd4,Nc6,Bxe6+,Kxe6,Qc4+,Kd7,Bf4,Qa5,O-O-O,Rd8,e5,Nxe5,Bxe5,Qxe5,Rhe1,Qg5+,f4,Qxg2,Nb5,Rc8,Qe6+,Kd8', 'Rxd6+,Bxd6,Qxd6+,Nd7,Qe7#', 'https://lichess.org/training/Wx0jY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wX1OV', 'Blitz', 'RomanSinVl', 2118, 'FM thestench', 2173, 'e4,Nf6,d3,e5,Be2,Bc5,Bf3,Nc6,Ne2,d5,exd5,Nxd5,O-O,O-O,Nbc3,Nxc3,Nxc3,Nd4,Be3,Nxf3+,Qxf3,Bd6,Rfe1,Be6,Ne4,Be7,Bc5,b6,Bxe7,Qxe7,Nc3,f6,Qb7,Rfe8,Re3,c5,Qf3,Rad8,Rae1,Qf7,b3,Rd4,Ne2,Rh4,Qg3,Rg4,Qf3,h5,h3,Bd5,Re4,Bxe4,dxe4,Rg5,Nc3,h4,Nd5,Qg6,Kh2,Kh7,Rg1,f5,exf5,Rxf5,Qe4,Rxf2', 'Qxh4+,Kg8,Qxf2', 'https://lichess.org/training/wX1OV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wx2dO', 'Rapid', 'ericlorraine', 1901, 'catrius', 1859, 'd4,d5,c4,e6,Nf3,Nc6,Nc3,Nf6,e3,Bb4,Bd2,a6,Bd3,O-O,O-O,Re8,Qc2,h6,Rfe1,dxc4,Bxc4,e5,a3,Bd6,dxe5,Nxe5,Nxe5,Bxe5,Rad1,Bg4,f3,Be6,Bxe6,Rxe6,Bc1,Qe7,Nd5,Nxd5,Rxd5,c6,Rdd1,Re8,e4,Qh4,g3,Rg6,Qg2', 'Bxg3,hxg3,Rxg3', 'https://lichess.org/training/wx2dO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wX2vO', 'Classical', 'berkaytokel', 1740, 'DrRonaldGreenthumb', 1643, 'e4,c5,Nc3,d6,f4,Nd7,Nf3,Ngf6,Bb5,a6,Bxd7+,Nxd7,O-O,g6,Qe1,Bh6,d3,e5,fxe5,Bxc1,Rxc1,dxe5,Qg3,Qe7,Nd5,Qd6,Ng5,f6,Nf3,b6,Rf2,Bb7,Ne3,O-O-O,Rcf1,Rhf8,Nd2,b5,a4,c4,axb5,axb5,dxc4,bxc4,Nexc4,Qb4,c3,Qc5,b4,Qc7,Na5,Ba6,Ra1,h5,c4,f5,b5,Bb7,Nxb7,Kxb7,Qe3,Ra8,Rxa8,Kxa8,Nb3,Qxc4,Ra2+,Kb8,Qa7+,Kc8,Qa8+,Nb8,Na1,Qd4+,Kf1,Qd1+,Kf2,Qd4+,Ke2,Qxe4+,Qxe4,fxe4,Ke3,Rf4,Nb3,Kb7,Nc5+,Kb6,Nxe4,Kxb5', 'Rb2+,Kc6,Rxb8', 'https://lichess.org/training/wX2vO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WX3Q1', 'Classical', 'BilalYalcin1987', 1837, 'Feardotcom', 1817, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qc4,e6,c3,a6,Bf4,b5,Qe2,e5,Bg3,d6,Nd2,Nf6,Ngf3,Be6,Ng5,Bg4,f3,Bh5,O-O-O,h6,Nh3,Qa5,Kb1,b4,Nb3,Qc7,c4,Nxe4,Qxe4', 'Bg6,Qxg6,fxg6', 'https://lichess.org/training/WX3Q1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wx6e2', 'Rapid', 'Night_Gryphon', 1790, 'Olga_Y', 1737, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Nc3,Nxc3,dxc3,Nc6,Qd5,Qf6,Bg5,Qe6,Qxe6+,dxe6,O-O-O,Be7,Bb5,Bxg5+,Nxg5,O-O,Bxc6,bxc6,Rhe1,f6,Nf3,Bb7,Rd7,Rf7,Red1,h6,Rxf7,Kxf7,Rd7+,Kg6,Rxc7,Ba6,b3,e4,Nd4,e5,Nxc6,Be2,Kd2,Bf1,g3,Bg2,Rxa7,e3+,Kxe3,Bxc6,Rxa8,Bxa8,c4,Kf5,b4,Be4', 'g4+,Ke6,Kxe4', 'https://lichess.org/training/Wx6e2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wx7ca', 'Rapid', 'Emilesande', 1644, 'k50gladiator1', 1672, 'c4,c5,Nc3,Nc6,e4,d6,Nf3,g6,Be2,Bg7,O-O,Nf6,d3,O-O,Bg5,Be6,Qd2,a6,a3,Nd4,Nxd4,cxd4,Nd5,Bxd5,cxd5,Nd7,Rac1,f6,Bh6,f5,Bxg7,Kxg7,f4,Nc5,Qe1,fxe4,Qg3,e6,dxe6,Nxe6,dxe4,Qb6,b4', 'd3+,Qf2,Qxf2+,Rxf2,dxe2', 'https://lichess.org/training/Wx7ca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wx8Jg', 'Blitz', 'ayman0533', 1589, 'aymanshehata2020', 2091, 'e4,e6,Nf3,d5,d4,dxe4,Ne5,Nf6,Bc4,Be7,O-O,O-O,f3,exf3,Qxf3,a6,Bg5,c6,Bxf6,Bxf6,Ng4,Bxd4+,Kh1,Bxb2,Nd2,Bxa1,Ne4,Bb2,c3,f5,Nh6+,gxh6,Qg3+,Kh8,Qe5+,Kg8,Rf3,fxe4,Rg3+,Kf7,Rg7+,Ke8', 'Qh5+,Rf7,Qxf7#', 'https://lichess.org/training/wx8Jg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WxA1L', 'Classical', 'kencoder', 1798, 'Sandip_san', 1879, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,d3,h6,a3,d6,b4,Bb6,Nd5,Nxd5,Bxd5,Bg4,h3,Bh5,c3,Kh8,d4,exd4,g4,Bg6,cxd4,Ne7,a4,c6,Bb3,Bxe4,Re1,d5,Bc2,Bxf3,Qxf3,Bxd4', 'Qd3,Bxf2+,Kxf2', 'https://lichess.org/training/WxA1L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXAgi', 'Rapid', 'peterolivertayao', 1671, 'Egorwk', 1639, 'd4,d5,c4,Nf6,Nc3,e6,e3,c5,Nf3,Nc6,Be2,dxc4,Bxc4,cxd4,exd4,Bb4,O-O,O-O,d5,Bxc3,bxc3,exd5,Bb3,Na5,Re1,Nc4,Bg5,Be6,Qe2,b5,a4,a6,axb5,axb5,Rxa8,Qxa8,Nd4,Qa6,Qf1,Ne4,Ra1,Qb6,Be7,Re8,Bb4,Ncd2,Qxb5', 'Qxb5,Nxb5,Nxb3', 'https://lichess.org/training/wXAgi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXbIg', 'Rapid', 'Opend', 1840, 'Rel_Presores', 1896, 'c4,e5,Nc3,Bc5,g3,Nf6,Bg2,c6,Nf3,Ng4,e3,d5,h3,Nf6,Nxe5,Qd6,Nf3,d4,exd4,Bxd4,Qe2+,Be6,Ne4,Nxe4,Qxe4,Bb6,O-O,Nd7,b3,O-O-O,d4,Nf6,Qf4,Qd7,Bb2,Bxh3,Ne5,Qe6,Bxh3,Qxh3,Nxf7,Ng4,Rfe1,Rhf8,Ba3,Bxd4,Nd6+,Rxd6,Qxf8+,Rd8,Qf5+,Kb8,Bc5,Bxa1,Rxa1', 'Qh2+,Kf1,Qh1+', 'https://lichess.org/training/wXbIg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXcFB', 'Rapid', 'SR1008', 2200, 'zelezny', 2266, 'd4,e6,c4,d5,Nf3,Nf6,Nc3,c6,Bg5,Be7,e3,O-O,Rc1,Nbd7,Bd3,b6,cxd5,exd5,O-O,Bb7,Qe2,Ne4,Bxe4,Bxg5,Nxg5,Qxg5,Bf3,Rfe8,Rfd1,Rad8,Qc2,f5,b4,b5,g3,Nb6,a4,a6,Qb3,Nc4,Rd3,Re7,Kg2,Rde8,Ne2,Qf6,h4,h6,h5,Bc8,Nf4,Re4,Rdc3,Nd2,Qd1,Nxf3,Qxf3,Bd7,a5,Qg5,Rc5,R8e7,Ng6,R7e6,Nf4,Rd6,Nd3,Rde6,R5c3,Be8,Nc5', 'Bxh5,Qf4,Rxf4', 'https://lichess.org/training/wXcFB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXDBX', 'Blitz', 'Ramakrishnaucd', 1582, 'v1vitor', 1559, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,Be2,Nf6,Qd2,O-O,Bh6,Re8,Bxg7,Kxg7,O-O-O,a5,h4,h5,g4,Nxg4,Bxg4,Bxg4,f3,Bd7,Rdg1,Nxd4,Qxd4+,Kh7,Rg5,b5,Rhg1,b4', 'Rxh5+,gxh5,Qg7#', 'https://lichess.org/training/wXDBX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXELh', 'Rapid', 'Ericsen00', 1925, 'Slava1827', 1918, 'd4,d5,Nf3,Bg4,Nbd2,Bxf3,exf3,e6,Bd3,Nf6,O-O,Be7,c4,dxc4,Nxc4,Qxd4,Be3,Qd8,Ne5,Nd5,Bb5+,c6,Bd3,Bf6,f4,Bxe5,fxe5,Nxe3,fxe3,Nd7,Qh5,g6,Qh6,Nxe5', 'Qg7,Rf8,Qxe5', 'https://lichess.org/training/wXELh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wxF0y', 'Rapid', 'andssyy', 1698, 'LiwB', 1619, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,f3,O-O,Nxc6,dxc6,Bd2,Re8,a3,Ba5,b4,Bb6,Bc4,Qd4,Qe2,Rd8,Rd1,a5,Nb1,Bd7,Be3', 'Qxe3,Qxe3,Bxe3', 'https://lichess.org/training/wxF0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wxhxp', 'Rapid', 'Sersuper', 1612, 'mb79mb', 1614, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d3,Qe7,Bg5,Bxc4+,Qe2,Qxe2+,Bxe2,Bb4+,Nd2,Bxd2+,Kxd2,Bd5,Bxf6,gxf6,f3,Nc6,Rc1,O-O-O,a3,Na5,Rc3,Rhg8,b4,Nb3+,Kc2,Rxg2,Kd1,Nd4,Bf1,Bb3+,Ke1,Re8+,Ne2,Nc2+', 'Rxc2,Bxc2,Bxg2', 'https://lichess.org/training/wxhxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WXj3J', 'Blitz', 'jpablito_7', 2504, 'IM Zeveraar-Glen', 2491, 'd4,g6,f4,Bg7,e4,d5,e5,c5,Nf3,cxd4,Nxd4,Nc6,Nc3,f6,exf6,Nxf6,Bb5,Bd7,O-O,Qb6,Bxc6,bxc6,Kh1,O-O,Rb1,e5,fxe5,Ng4,Bf4,Nxe5,Na4,Qa5,c3,c5,Nxc5,Qxc5,Qe2,Rae8,Bxe5,Bxe5,Rxf8+,Kxf8,Qf2+,Kg7', 'Ne6+,Rxe6,Qxc5', 'https://lichess.org/training/WXj3J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXkxo', 'Blitz', 'Glassandbricks', 1577, 'TRES_ARROBAS', 1645, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,c5,c3,cxd4,cxd4,Qa5+,Bd2,Qb6,Ne2,Qxb2,Nbc3,Bb4,Rb1,Qa3,Nb5,Bxd2+,Qxd2,Qe7,Rc1,Na6,O-O,O-O,Ng3,Bd7,Nc7,Nxc7,Rxc7,Rac8,Rxb7,a6,Re1,Qe8,Nf5,Bc6,Nd6,Qd8,Bxc6,Rxc6,Ne4,Nxe4,Rxe4,f5,Qg5,Qf6,Qxf6', 'Rc1+,Re1,Rxe1#', 'https://lichess.org/training/wXkxo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wxlVE', 'Rapid', 'ku0n', 1755, 'BlaiseZ', 1632, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Nxf7,Qxe4+,Qe2,Qxe2+,Kxe2,Be6,Nxh8,O-O-O,Re1,Bd5,Kf1,Bc5,d3,Nf6,c4,Bg8,Bg5,Bb4,Re2,Rf8,f3,b5,a3,Bc5,b4,Bd4,Raa2,bxc4,Rad2,cxd3,Rxd3,Ba7,Rc2,Bd5,Nc3,Bc4,Ke2,Bxd3+,Kxd3,Rxh8,Ne2,Rd8+,Kc3,Nd5+,Kb2,Rd7,Rxc6,Kb7,Re6,h6,Bh4,Ne3,Nf4,Nd1+,Kb3,Bd4,Bg3,Nc3,Ng6,Nd5,Nf8,Rf7,Kc4,Rxf8,Kxd5,Rd8+,Kc4,Bb2,a4,Rd4+,Kc5,Rd7,b5,Bd4+,Kc4,axb5+,axb5,Bg1,h3,Rd4+,Kc3,Ra4,Re7,Kb6,Rxc7,Kxb5,Rxg7', 'Bd4+,Kd3,Bxg7', 'https://lichess.org/training/wxlVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXLZB', 'Rapid', 'piotrciszewski', 1734, 'Otterchess', 1793, 'd4,d5,c4,Nf6,Nc3,c6,Bf4,e6,e3,Be7,Nf3,O-O,Bd3,Nbd7,O-O,c5,Re1,b6,b3,Bb7,h3,a6,dxc5,bxc5,cxd5,exd5,Rc1,Re8,Bh2,Qa5,Qd2,d4,exd4,cxd4,Nxd4,Nd5,Nde2,Bb4,Rc2,Rac8,Rec1,Rxe2,Bxe2,Nxc3,Rxc3,Bxc3,Qxd7,Qg5,Qxb7,Qxc1+,Bf1,Re8,Qxa6,g6,Qc6', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/wXLZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wxMOX', 'Blitz', 'CM juandivc', 1666, 'sergior2020y12', 1865, 'd4,d5,Bf4,Nf6,e3,Bf5,c4,e6,Nc3,Bb4,Qb3,Bxc3+,bxc3,b6,cxd5,Nxd5,Nf3,Nxf4,exf4,Nd7,Bb5,O-O,Ne5,Nxe5,fxe5,Qd5,Qxd5,exd5,O-O,a6,Bc6,Rad8,Ba4,Bd3,Rfd1,Be4,Rac1,f5,Bc2,c6,f3,Bxc2,Rxc2,c5,dxc5,bxc5,c4,d4,Rb2,Rb8,Rdb1,Rxb2,Rxb2,Re8,Rb6,Rxe5,Rxa6,Re2,Rc6,d3,Rd6', 'd2,h3,Re1+', 'https://lichess.org/training/wxMOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wxndi', 'Rapid', 'BanditoGiuliano', 1624, 'yilmzonurr', 1644, 'd4,d5,c4,Nc6,cxd5,Qxd5,Nf3,Nf6,Nc3,Qd6,e4,e5,d5,Ne7,Nb5,Qb4+,Nc3,Nxe4,Bd3,Nxc3,bxc3,Qxc3+,Kf1,Bg4,Rb1,Rb8,Qa4+,c6,dxc6,Nxc6,Bb5,Bxf3,gxf3,Qxf3', 'Bxc6+,bxc6,Rxb8+', 'https://lichess.org/training/Wxndi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WxnO3', 'Blitz', 'revolverocelot1992', 1921, 'Ghian_Fikra', 1838, 'd4,c6,e4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,gxf6,Nf3,h5,Bd3,Be6,c3,Nd7,Bf4,c5,Qe2,cxd4,Nxd4,Bd5,Nf5,e5,O-O-O,Bxg2,Bb5,Bxh1,Bxd7+,Qxd7,Rxd7,Kxd7,Qd1+,Ke6,Qxh1,Kxf5,Qxb7,Re8,Qxf7,Re7,Qd5,Kxf4,f3,Bh6', 'Qe4+,Kg5,h4#', 'https://lichess.org/training/WxnO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXno9', 'Rapid', 'Grzybiarz85', 1859, 'tommdepomm', 1825, 'b3,Nf6,Bb2,d6,e3,g6,d4,Bg7,Nc3,O-O,Nf3,Nbd7,Qe2,Re8,O-O-O,e5,dxe5,Nxe5,Nxe5,Rxe5,f4,Ra5,Na4,Bd7,Nc3,a6,a4,b5,axb5,axb5,Qf3,Bg4,Qc6,Bxd1,Kxd1,b4,Na4,R8a6,Bxa6,Rd5+,Kc1,Qe7,Re1,Qe4,Bd3,Qxg2,e4,Rh5,Qxc7,Rxh2,e5', 'Qd2+,Kb1,Qxe1+', 'https://lichess.org/training/wXno9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wxNtV', 'Rapid', 'BogomilTodorov', 2102, 'haldunaksell', 1849, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qa5,Be2,Bg4,O-O,O-O-O,a3,e6,h3,Bh5,Ne4,Nf6,Ng3,Bg6,Nh4,Bc5,Nxg6,hxg6,c3,Qb6,b4,Bd6,a4,Bxg3', 'a5,Nxa5,bxa5', 'https://lichess.org/training/wxNtV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wxOPq', 'Blitz', 'Rr1957', 1947, 'jubilagete', 1983, 'e4,c5,Nc3,e6,g3,d6,Bg2,Nf6,f4,Qc7,Nf3,Be7,O-O,O-O,d3,a6,a4,Nc6,h3,b6,Be3,Bb7,g4,Nd7,f5,Nde5,Bf4,Nxf3+,Qxf3,Ne5,Qg3,exf5,gxf5,f6,Bh6,Bd8,Nd5,Bxd5,exd5,Kh8,Be3,Qd7,Rae1,Qxa4,b3,Qb4,Rf4,Qc3,Qf2,b5,Rf1,Bb6,Be4,a5,Rh4,Ra7,Rh5,Kg8,Qh4,h6,Bxh6,gxh6,Rxh6,Rg7+,Kh1,c4,Rh8+,Kf7,Rxf8+,Kxf8,Qxf6+,Nf7,Qe6,Qd4,f6,Rg1+,Kh2,Rxf1', 'Qe7+,Kg8,Qe8#', 'https://lichess.org/training/wxOPq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WXQaa', 'Rapid', 'fclgomes', 1728, 'zahmadov', 1821, 'c4,g6,d4,d5,cxd5,Qxd5,Nc3,Qd8,Nf3,Bg7,e3,e6,Be2,Nc6,O-O,Nge7,a3,O-O,b4,a6,Bb2,Nd5,Rc1,Re8,Ba1,b6,Na4,Bb7,e4,Nf4,e5,Nxe2+,Qxe2,a5,b5,Na7,Qc4,Nxb5,Qxb5,Ba6,Qc6,Bxf1,Kxf1,Qd5,Qxc7', 'Qb5+,Kg1,Qxa4', 'https://lichess.org/training/WXQaa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXrUq', 'Blitz', 'ManFromMars', 2207, 'daskapitallesen', 2163, 'Nf3,d5,e3,Bg4,c4,e6,Nc3,c6,h3,Bxf3,Qxf3,Nf6,a3,Bd6,b4,Nbd7,c5,Bc7,Bb2,O-O,Be2,Ne5,Qg3,Nd3+,Bxd3,Bxg3,fxg3,Qc7,Ne2,Ne4,Bxe4,dxe4,O-O,Rad8,Bc3,Rd7,Rf4,f5,g4,g6,gxf5,exf5,Nd4,Re7,Raf1,Ree8,g4,Qe7,gxf5,g5,Rg4,h5,Rg2,Kh7,Ne6,Rg8,Kh1,g4,hxg4,Rxg4,Rh2,Rh4,Rf2,Rg8,Nf4,Rgg4,Ng6,Qg5,Rxh4', 'Rg1+,Kh2,Qg3#', 'https://lichess.org/training/wXrUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXsN9', 'Rapid', 'paololucca', 1739, 'rosoha', 1705, 'd4,b6,e4,e6,Nf3,Bb7,Bd3,d6,O-O,Nd7,c4,Be7,d5,e5,Nc3,h6,h3,Ngf6,Nh2,Nc5,f4,Nxd3,Qxd3,exf4,Bxf4,O-O,e5,dxe5,Bxe5,Nd7,Bd4,Bc5,Ng4,Bxd4+,Qxd4,Bc8,Rf4,Nc5,Ne5,Qg5,Rf3,Nd7,Nxd7,Bxd7,Raf1,Rae8,Ne4,Qe5,Qxe5,Rxe5,Nc3,f6,b3,Rfe8,Rg3,Kh7,Rgf3,f5,Kh2,g6,h4,h5,R1f2,a6,Kg1,Re1+,Kh2,b5,cxb5,axb5,Rf4,R8e5,Rd4,R1e3,Nd1,R3e4,Rxe4,Rxe4,Rd2,Rxh4+,Kg1,Re4,Nf2,Re5,d6,Kg7', 'dxc7,Bc8,Rd8', 'https://lichess.org/training/wXsN9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WXTjw', 'Rapid', 'baymbt', 1752, 'neglihjst', 1843, 'd4,e5,dxe5,f6,exf6,Nxf6,Nc3,d5,Nf3,Bc5,e3,O-O,Be2,Nc6,a3,Bg4,O-O,Ne7,h3,Bd7,b4,Bd6,Bb2,Ng6,Nd4,Nh4,Nf3,Nf5,Nxd5,Qe8,Bc4,Nxd5,Bxd5+,Kh8,Bxb7,Nxe3,fxe3,Qxe3+,Kh1,Rxf3,Bxf3,Rf8,Bd4,Qf4,Bg1,Qg3,c4,Bxh3,gxh3', 'Qxh3+,Bh2,Qxh2#', 'https://lichess.org/training/WXTjw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WXTpi', 'Rapid', 'ranoraraku', 1983, 'Blackqueen2399', 1851, 'e4,Nc6,Nc3,e5,g3,f6,Bg2,Bb4,Nge2,Nge7,O-O,O-O,d4,d5,exd5,Bxc3,Nxc3,Nxd4,Be3,Ndf5,Bc5,Re8,Bxe7,Qxe7,Re1,Rd8,Be4,c6,Qg4,Nd6,Qe2,f5,Bg2,e4,f3,cxd5,Nxd5,Qe5,fxe4,Nxe4,Nc3,Qd4+,Kf1', 'Nd2+,Qxd2,Qxd2', 'https://lichess.org/training/WXTpi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WXVac', 'Rapid', 'M-Silves', 1904, 'ilir10', 1973, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nf6,d3,O-O,O-O,h6,a3,a6,Be3,Bxe3,fxe3,d6,Nd5,Bg4,h3,Bh5,g4,Bg6,Nh2,Nxd5,Bxd5,Qh4,Qf3,Ne7,Bb3,c6,Qg2,d5,Nf3,Qf6,Nd4,Qd6,Nf5,Qd7,Nxe7+,Qxe7,exd5,cxd5,Bxd5,Qc5,Qf3,Qxc2,e4,Qxb2,Rab1,Qd4+,Kh2,Rab8,Rxb7', 'Rxb7,Bxb7,Qb2+', 'https://lichess.org/training/WXVac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXwbX', 'Rapid', 'konaka29', 1908, 'tonycitrini', 1773, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,e6,Nc3,a6,Bg5,Nf6,O-O-O,Nc6,Qd2,Qc7,Kb1,Be7,Be2,b5,Bd3,b4,Ne2,Bb7,h3,Rd8,Qe3,e5,Bxf6,Bxf6,g4,g6,h4,Bg7,h5,a5,h6,Bf8,g5,Be7,Nd2,O-O,f4,Rfe8,f5,Bf8,Rhf1,d5,fxg6,fxg6,exd5,Rxd5,Bc4,Ne7,Qb3,Kh8,Bxd5,Bxd5,Qe3,Nf5,Rxf5,gxf5,Nf3,Bc5,Qd3,Be4,Qb5,Rf8,Rd7,Bc6,Rxc7,Bxb5,Rxc5,Bxe2,Nxe5,f4,Rc7,f3,Nf7+', 'Kg8,Ne5,f2', 'https://lichess.org/training/wXwbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WxXA5', 'Rapid', 'OLEGkrasavec', 1765, 'Britvich', 1649, 'd4,d5,c4,c6,c5,Nd7,Nc3,e5,e3,e4,b4,a6,a3,Be7,Nge2,Ndf6,g3,Bg4,h3,Bf3,Rh2,Qd7,g4,h6,Qd2,Bxg4,hxg4,Nxg4,Bh3,N8f6,Rg2,h5,Nf4,O-O-O,Bb2,Kb8,O-O-O,g5,Nxh5', 'Rxh5,Bxg4,Nxg4', 'https://lichess.org/training/WxXA5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wxXFz', 'Blitz', 'WFM Anchkaaaaa', 2277, 'GM sumsar42', 2788, 'Nf3,d5,c4,e6,g3,dxc4,Qa4+,Nd7,Qxc4,a6,Bg2,b5,Qc2,Bb7,d4,Ngf6,O-O,c5,dxc5,Bxc5,Rd1,O-O,Bg5,Qb6,e3,Rac8,Qe2,h6,Bxf6,Nxf6,Nc3,Rfd8,Rxd8+,Rxd8,Rd1,Bc6,a3,Rxd1+,Qxd1,b4,Na4,Bxa4,Qxa4,bxa3,bxa3,Qb1+,Bf1,Ne4,Qxa6,g5,Qd3,Qxd3,Bxd3,Nc3,h4,f6,hxg5,hxg5,Bc4,Kf7,Nd4,Bxd4,exd4,Ke7,Kf1,Kd6,Ke1,e5,dxe5+,Kxe5,Kd2,Nb1+,Ke2,Nxa3,Bd3,Kd4,Bf5,Nc4,Bb1,Nd6,Bg6,Nb5,Kf3,Ke5,Kg4,Nd4,f4+,gxf4,gxf4+,Ke6,Bd3,Kd6,Be2', 'Nxe2,Kf5,Ke7', 'https://lichess.org/training/wxXFz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WXXI0', 'Blitz', 'NM EDGARDZANETTE', 2310, 'VictorNordwind', 2000, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Nf3,Bd6,Bc4,Be6,Bxe6,fxe6,Ng5,Ke7,Bd2,Nc6,O-O-O,a6,f3,Rad8,Be3,b5,Ne2,Na5,b3,h6,Nh3,Nb7,Kb2,Bc5,Bxc5+,Nxc5,Nf2,Nh5,Nd3,Nxd3+,cxd3,Nf4,Nxf4,exf4,d4,g5,b4,Rd7,Rd2,Rhd8,Rhd1,e5,Kc3,exd4+,Rxd4,Rxd4,Rxd4,Rc8,Rd5,Ke6,h4,Kf6,hxg5+,hxg5,Rf5+,Kg6,Rc5,Kf6,Rc6+,Ke5,Rxa6,c5,Ra5,cxb4+,Kxb4,Rc2,Rxb5+,Kf6,a4,Rxg2,a5,g4,fxg4', 'Rb2+,Ka4,Rxb5,Kxb5,f3,Kb4,f2', 'https://lichess.org/training/WXXI0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WxxIK', 'Blitz', 'mermentau', 1525, 'mttb90', 1526, 'd4,d5,Bf4,Nc6,e3,Nf6,c3,e6,Nf3,Bd6,Ne5,Nd7,Bb5,a6,Bxc6,bxc6,Nd2,Bb7,O-O,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/WxxIK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXY11', 'Blitz', 'fiddler79', 2010, 'NM mnmassari', 2162, 'e4,c5,f4,d6,Nf3,Nc6,Nc3,e6,Bb5,Bd7,O-O,Nf6,Bxc6,Bxc6,e5,Nd5,Ne4,Nxf4,exd6,Bxe4,d3,Bg6,Bxf4,Bxd6,Ne5,O-O,Qf3,Qc7,Nxg6,fxg6,Bxd6,Qxd6,Qxb7,Rab8,Rxf8+,Qxf8,Qxa7,Rxb2,Rf1,Qe8,Qxc5,Rxa2,Qc4,Ra8,Re1,Rc8,Qxe6+,Qxe6,Rxe6,Rxc2,d4,Kf7,Re4,Rd2,Rf4+,Ke6,h3,g5,Rg4,h6,Kh2,Kf5,Kg3', 'h5,Rxg5+,Kxg5', 'https://lichess.org/training/wXY11');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WxyB0', 'Blitz', 'caturbali07', 1937, 'Arom1234', 1854, 'e4,e5,Nf3,Nc6,Bb5,f5,exf5,Nf6,O-O,e4,Ng5,d5,Bxc6+,bxc6,Ne6,Bxe6,fxe6,Bd6,d4,O-O,Bg5,Qe7,c4,Qxe6,c5,Be7,Qa4,Ng4,Bxe7,Qxe7,Qxc6,Qh4,h3,Nf6,Nc3,Qg5,Qxc7,e3,fxe3,Qxe3+,Kh1,Qxd4,Rad1,Qb4,Nxd5,Nxd5,Rxf8+,Rxf8,Rxd5,Qe4,Rd1,h6,Qd6,Qe2,c6,Rf2,c7,Rxg2,Qd5+,Kh7,c8=Q', 'Rh2+,Kg1,Qf2#', 'https://lichess.org/training/WxyB0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wXyOf', 'Blitz', 'Placane', 1667, 'Mrwell', 1584, 'a3,c5,e4,d6,b4,cxb4,d4,Nf6,Bd3,bxa3,Nxa3,e5,dxe5,dxe5,Bb5+,Nc6,Qxd8+,Kxd8,Bg5,Bb4+,Kf1,Nd4,Bd3,Be6,Nf3,Bc3,Rd1,Nxf3,gxf3,h6,Bb5+,Ke7,Bc1,g5,Nc4,a6', 'Ba3+,Bb4,Bxb4#', 'https://lichess.org/training/wXyOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WXzva', 'Rapid', 'Yashtarane25', 1629, 'The_Chessologist', 1702, 'd4,d5,Bf4,e6,c3,c5,e3,Nc6,Nf3,Qb6,Qc2,cxd4,exd4,f6,h4,Na5,Nbd2,Bd6,Bxd6,Qxd6,Qa4+,Nc6,Bd3,Bd7,Qc2,e5,O-O-O,e4,Nxe4,dxe4,Bxe4,Nge7,d5,Qf4+,Kb1,Ne5,Nxe5,Qxe5,d6,Nc6,Rhe1,O-O,Bxh7+,Kh8,Rxe5,Nxe5,h5,f5,Bg6,Rf6,f4,Nc4,Qb3,Ne3,Qxb7,Rd8,Re1,Nxg2,Re7,Rxd6,Bxf5,Rd1+,Kc2,Ba4+,b3', 'R8d2#', 'https://lichess.org/training/WXzva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wy04o', 'Rapid', 'Hetag999', 1750, 'gauzi2', 1745, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Nc3,h6,d3,a6,Be3,Bd6,O-O,O-O,Nd2,Na5,Bb3,Nxb3,axb3,Bb4,f4,d6,fxe5,dxe5,Nc4,b5,Nxe5,Re8,Nc6,Qd6,Nxb4,Qxb4,Bxh6,Qe7,Bg5', 'Qc5+,Kh1,Qxg5', 'https://lichess.org/training/Wy04o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WY0kJ', 'Rapid', 'masudxray', 1821, 'zip1zip', 1720, 'e4,b6,Bc4,Bb7,Qf3,Nf6,Nc3,a6,a3,b5,Ba2,e6,d3,Bc5,Nge2,O-O,h3,a5,Nxb5,d5,Nbc3,d4,Nb5,c6,e5,Nfd7,Nd6', 'Nxe5,Nxb7,Nxf3+', 'https://lichess.org/training/WY0kJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wy0KX', 'Rapid', 'Smike', 1756, 'K_Rafael', 1995, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Qb3,Qxb3,axb3,cxd4,cxd4,Nge7,Bb5,Nf5,Bxc6+,bxc6,O-O,Rb8,Nbd2,Bb4,Rxa7,Bxd2,Bxd2,Rxb3,Ra8,O-O,Bc3,Bb7,Ra7,Ra8,Rfa1,Rxa7,Rxa7,Ne7,Nd2,Rb5,Nf3,Nc8,Ra1,Nb6,Nd2,h6,f4,Kh7,g4,g5,f5,h5,gxh5,exf5,h4,g4,Rf1,Bc8,Rf2,Kh6,Nf1,Nc4,Ng3,Be6,Nxf5+,Bxf5,Rxf5,Nxb2,Bxb2,Rxb2,Rxf7,Rd2,Rf6+,Kxh5,Rf5+,Kxh4,e6,Re2', 'Re5,Ra2,e7', 'https://lichess.org/training/wy0KX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wy1US', 'Classical', 'kadpsy', 1698, 'HeinerYTR', 1740, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Qa5+,Bd2,Qa6,Qb3,Nd7,Na3,Ne7,c4,Nf5,cxd5,cxd5,Rc1,Bxa3,bxa3,O-O,Rc7,Nb6,g4,Nh6,Bxh6,gxh6,g5,Nc4,gxh6', 'Qa5+,Ke2,Qxc7', 'https://lichess.org/training/Wy1US');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wy1vm', 'Rapid', 'M_Soni', 1745, 'gs85', 1735, 'e4,e5,Bc4,Qf6,d3,Bc5,Nf3,Nc6,Nc3,Nge7,O-O,d6,Re1,Bg4,h3,Bh5,Bg5,Qg6,Bxe7,Nxe7,Nd5,Nxd5,Bxd5,c6,Bb3,h6,Nh4,Qf6,Nf3,O-O,c3,a6,d4,exd4,cxd4,Bxd4', 'Qxd4,Bxf3,Qxf6,gxf6,gxf3', 'https://lichess.org/training/Wy1vm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wY35S', 'Blitz', 'js4chess', 1662, 'MikhailGo', 1639, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Bg4,d3,Nf6,a3,Be7,Bb3,O-O,Bg5,Nd4,Nbd2,Nxb3,Nxb3,d5,exd5,Nxd5,Bxe7,Qxe7,h3,Bh5,g4,Bg6,Re1,e4,dxe4,Nf4,e5,Nxh3+,Kg2,Nf4+,Kg3,Ne6,Nh4,Rad8,Qe2,Ng5,Nxg6,fxg6,f4,Ne6,Qe3,Nxf4,Rf1,Qg5', 'Rxf4,Qxf4+,Qxf4,Rxf4,Kxf4', 'https://lichess.org/training/wY35S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wy8rP', 'Rapid', 'farham2020', 2310, 'joran2693', 2399, 'g3,Nf6,Bg2,d5,e3,e6,Ne2,Be7,d4,O-O,O-O,b6,c4,Bb7,Nbc3,Nbd7,b3,Ne4,Nxe4,dxe4,Nc3,f5,Bb2,Nf6,Qc2,Qe8,Nb5,Bd8,Rad1,a6,Nc3,c6,Ne2,g5,Nc3,Qh5,Na4,Bc7,d5,cxd5,Bxf6,Rxf6,cxd5,Rc8,Qb2,Rh6,h3,exd5,Qd4,Qf7,Rc1,f4,exf4,gxf4,Rxc7,Rxc7,Re1,f3,Bf1,Qd7,Nxb6,Qe6,Na4,Rxh3,Nc3,Qh6,Bg2,Rh2,Bxf3,exf3,Qg4+,Qg7', 'Re8+,Kf7,Qe6#', 'https://lichess.org/training/Wy8rP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wy9C4', 'Rapid', 'DipParmar', 1713, 'Pitanj', 1733, 'e4,d5,exd5,e6,dxe6,Bxe6,d4,Nf6,Nf3,Bb4+,Nc3,O-O,a3,Bxc3+,bxc3,Re8,Be2,Bc4,Ne5,Bxe2,Qxe2,Nc6,O-O,Nxe5,dxe5,Nd5,Rd1', 'Nxc3,Rxd8,Nxe2+', 'https://lichess.org/training/Wy9C4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WYa8l', 'Rapid', 'Tacticianchess', 2017, 'Madcrown', 1869, 'd4,e6,c4,c5,d5,exd5,cxd5,d6,e4,Nf6,Nc3,g6,Nf3,Bg7,Bd3,O-O,O-O,Re8,Re1,Bg4,h3,Bxf3,Qxf3,Na6,Bf4,Nc7,Rab1,a6,a4,Rb8,b4,cxb4,Rxb4,Ncxd5,Nxd5,Nxd5,Rbb1,Nxf4,Qxf4,Be5,Qf3,Qa5,Bc4,Re7,Qb3,b5,axb5,axb5,Bd5,b4,Rec1,Bc3', 'Rxc3,bxc3,Qxb8+', 'https://lichess.org/training/WYa8l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wyaxc', 'Rapid', 'zambur10', 1858, 'ZygoteDeLux', 1833, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,h3,a6,O-O,d6,Nh2,h6,Kh1,O-O,f4,exf4,Bxf4,b5,Bb3,Bb7,Ng4,Nxg4,Qxg4,Ne5,Qg3,Kh7,Nc3,Ng6,Ne2,Nxf4,Rxf4,d5,exd5,Bd6,Qf2,Bxf4,Qxf4,Bxd5', 'Qf5+,g6,Qxd5,Qxd5,Bxd5', 'https://lichess.org/training/wyaxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wYB24', 'Rapid', 'runtilmorrow', 2077, 'Viktorlv', 1680, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,d3,Be7,h3,O-O,O-O,Nc6,Be3,a6,a4,Na5,Ba2,c5,Qd2,Nc6,Nd5,Nd4,Bxd4,cxd4,c3,dxc3,bxc3,Be6,Rab1,Rb8,Rfe1,Bxd5,exd5,Nd7,d4,Bf6,dxe5,Bxe5,Nxe5,Nxe5,c4,Re8,Qf4,Qd7,c5,Nd3,Rxe8+,Rxe8,Qxd6,Qxa4,Bb3,Qd4,Rf1,Nxf2,Rxf2', 'Re1+,Kh2,Qxf2,Qb8+,Kh7', 'https://lichess.org/training/wYB24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wYBFC', 'Rapid', 'R10t', 1768, 'mauro0108', 1681, 'e4,d6,d4,c6,c4,h6,Nc3,Nd7,d5,Nb6,a4,e5,a5,Nd7,b4,a6,Be3,Ngf6,h3,cxd5,cxd5,Be7,Nf3,Kf8,Na4,Nxe4,Bd3,Nef6,Nd2,Nxd5,Qb3,Nxe3,fxe3,Bf6,O-O,e4,Nxe4,Qe7,Rac1,Ne5,Nxf6,gxf6,Bf5,Bxf5,Rxf5,Qe6,Qxe6,fxe6,Rxf6+,Kg7,Rxe6,Rhg8,Rc7+,Kh8,Nb6,Raf8,Ree7,Nf3+,Kh1,Ng5,h4,Rf1+,Kh2,Rf2,Rc8', 'Nf3+,Kh3,Ng1+', 'https://lichess.org/training/wYBFC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WYBI6', 'Classical', 'TarenOP', 1806, 'impathak', 1892, 'Nf3,c5,c4,Nf6,Nc3,Nc6,e3,d6,d4,cxd4,Nxd4,Bd7,Be2,g6,O-O,Bg7,Bf3,O-O,Re1,Rb8,Rb1,Ne5,Be2,a6,b3,Qc8,Bb2,Bf5,Nxf5,Qxf5,f4,Neg4,Bd3,Qe6,e4,Qc8,h3', 'Qc5+,Kh1,Nf2+', 'https://lichess.org/training/WYBI6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WyBpR', 'Rapid', 'RAMESH4422', 1796, 'fawzykil', 1768, 'd4,d5,c4,e5,dxe5,d4,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,c5,e3,Qb6,exd4,cxd4,Nxd4,Ne7,Nc3,O-O,Be2,Rd8,O-O,Rxd4,Qc2,Be6,Rad1,Nbc6,Nb5,Rxd1,Rxd1,Nb4,Qb3,a5,Rd6,Qxb5,cxb5,Bxb3,axb3,Nf5,Rd7,b6,Bf3,Kf8,Bxa8,Ke8,Bc6,Nxc6,bxc6,Ne7,Rb7,Nxc6,Rxb6,Nxe5,Rb5,Nc6,Rc5,Kd7,g3,Kd6,Rc4,Ne5,Rd4+,Ke6,Ra4,Nc6,Kg2,f5,Rc4,Kd5,f4,h5,Kf2,Nb4,Ke3,g6,Rd4+,Kc5,Rc4+,Kd5,h3,Nc6,Ra4,Kc5,h4,Kb5,Kd3,Nb4+,Kd4,Nc2+,Kd3,Ne1+,Ke2,Nc2,Rc4,Nb4,Ke3,Nd5+,Kd4,Nb4,Rxb4+', 'Kxb4,Kd5,Kxb3', 'https://lichess.org/training/WyBpR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WyCLo', 'Blitz', 'bjornbjornhansen', 1641, 'Ghan_swe', 1578, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,O-O,O-O,d3,a6,Bg5,b5,Bb3,h6,Bh4,g5,Bg3,Nd4,Nxe5,Nxb3,axb3,d6,Nf3,Bg4,h3,Bh5,Nd5,Nd7,Bh2,f5,Qe1,g4,hxg4,fxg4,Nh4,Ne5,Nf5,Rxf5,exf5,Qg5,b4,g3,Bxg3,Qxg3,bxc5', 'Nf3+,Kh1,Qh2#', 'https://lichess.org/training/WyCLo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WydFj', 'Classical', 'EDAMJR', 1853, 'GerWhitenHistory', 1967, 'e4,c6,b3,d5,e5,Bf5,Bb2,e6,Nf3,h5,Bd3,Nh6,O-O,c5,Bb5+,Nd7,d4,a6,Bxd7+,Qxd7,dxc5,Bxc5,c4,dxc4,Qxd7+,Kxd7,Rd1+,Ke7,Ba3,Bxa3,Nxa3,cxb3,axb3,Rhd8,Nc4,Rxd1+,Rxd1,Bc2,Rc1,Bxb3,Nb6,Rd8,h3,Rb8,Ng5,a5,Rc7+,Ke8,Ne4,Bd5', 'Nd6+,Kf8,Nd7+,Kg8,Nxb8', 'https://lichess.org/training/WydFj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WYDLu', 'Rapid', 'TheBlueMeanie', 1702, 'Salih123456', 1762, 'e3,e5,d4,d6,dxe5,Nc6,exd6,Bxd6,a3,Nf6,h3,O-O,Be2,Ne4,Nf3,a5,Nbd2,Bf5,Bd3,Qe7,Nxe4,Bxe4,Bxe4,Qxe4,O-O,Rad8,Qe2,Rd7,b3,Rfd8,Bb2,Ne5,Nxe5,Bxe5,Bxe5,Qxe5,Rfd1,c6,Rxd7', 'Qxa1+,Qf1,Qxf1+,Kxf1,Rxd7', 'https://lichess.org/training/WYDLu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wYF81', 'Blitz', 'fastest_tortoise', 1779, 'Mariok', 1693, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,Be7,g3,c6,Bg2,d5,O-O,dxc4,Qc2,O-O,Qxc4,Nbd7,Nc3,Nb6,Qd3,Qc7,Rac1,Rd8,Rfd1,Bd6,e4,c5,dxc5,Bxc5,Qe2,e5,Bg5,Rxd1+,Qxd1,h6,Bxf6,gxf6,Nd5,Nxd5,exd5,Qe7,Qc2,Bd6,Nh4,Bd7,Nf5,Bxf5,Qxf5,Kg7,Be4,Rh8,Rc8,Rxc8', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/wYF81');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WyF8k', 'Rapid', 'Tobberk', 2066, 'Pasha1747', 1803, 'e4,c6,d4,e6,Nc3,d6,Nf3,Nd7,h3,Be7,a3,Qc7,Bf4,e5,dxe5,dxe5,Be3,Ngf6,Be2,O-O,O-O,Nc5,Bxc5,Bxc5,Re1,Qb6,Rf1,Qxb2', 'Na4,Qxa3,Rxa3', 'https://lichess.org/training/WyF8k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WyFVI', 'Rapid', 'solimanennara', 1710, 'EfebPower', 1670, 'e4,c5,f4,e6,c4,d6,Nf3,Nf6,Bd3,b6,b3,Bb7,e5,Be4,exf6,Bxd3,fxg7,Bxg7,Nc3,Qf6,Kf2,Qxf4,Re1,Bd4+,Re3,Bxe3+,dxe3,Qf5,Bb2,Rg8,Nb5,Na6', 'Nxd6+,Ke7,Nxf5+', 'https://lichess.org/training/WyFVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wyfwH', 'Blitz', 'no_-today', 1752, 'FM Willhaven', 2513, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be2,e6,Be3,Be7,h3,O-O,O-O,Qc7,Qd3,Nb4,Qc4,Nc6,Ncb5,Qb8,Nxc6,bxc6,Qxc6,Bb7,Qc4,Bxe4,Bd3,d5,Qc7,Bxd3,cxd3,Qxb5,Qxe7,Qxd3,Bg5,Ne4,Be3,a5,Qh4,Rab8,Qg4,f5,Qf4,Rxb2,Qe5,Qc3', 'Bd4,Qxd4,Qxd4', 'https://lichess.org/training/wyfwH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wYGzP', 'Rapid', 'Briferen', 1654, 'MakeMystic', 1893, 'd4,e5,dxe5,Nc6,Bf4,Bb4+,c3,Be7,Na3,Bxa3,bxa3,f6,e6,d6,e3,Bxe6,Nf3,Nh6,Bxh6,gxh6,Nd4,Nxd4,cxd4,Qe7,Qh5+,Qf7,Qxh6,O-O-O,Bd3,c5,Qh4,Bc4,Bf5+,Kb8,Rb1,Bxa2,Rb2,Bb3,O-O,c4,Rc1,d5,Qf4+,Ka8,Bc2,Bxc2,Rcxc2,Rc8,a4,Rc7,Rb5,Rd8,a5,Rc6,Qf5,b6,axb6,Rxb6,Rxb6,axb6,Ra2+,Kb7,h3,Qg6,Qe6', 'Qb1+,Kh2,Qxa2,Qe7+,Kc8', 'https://lichess.org/training/wYGzP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WYH2D', 'Rapid', 'Tmnacal', 1733, 'hojjatt', 1668, 'Nf3,d5,g3,Bg4,Bg2,Bxf3,Bxf3,e6,Nc3,Nf6,d4,Nc6,Bg5,Bb4,Bxf6,Bxc3+,bxc3,Qxf6,O-O,O-O,e4,Na5,exd5,exd5,Bxd5,c6,Bb3,Rfe8,Re1,Kf8,Qc1,Rxe1+,Qxe1,Re8,Qc1,Nxb3,Qa3+,Kg8,cxb3,a6,Qb4,b5,Qa5,Ra8,Re1,g6,f4,Qf5,Re5,Qc2,Rc5,Qd1+,Kg2,Qe2+,Kh3,Qe4,Re5,Qf3,Qb6,Qxc3,Re7,Qf3,Qc7,Rf8,Qb7,a5,Rc7,Qh5+,Kg2,Qe2+,Kh3,Qxa2,Qxc6,Qxb3,d5,a4,d6,a3,d7,Qe6+', 'Qxe6,fxe6,Rc8', 'https://lichess.org/training/WYH2D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wyhaa', 'Rapid', 'Turkulainen', 2244, 'rvj1994', 2223, 'c4,e5,g3,Nc6,Bg2,g6,Nc3,Bg7,d3,Nge7,e3,d6,Nge2,f5,O-O,O-O,f4,Be6,a3,Qd7,Qc2,Rab8,b4,Rfc8,Bb2,Nd8,Rac1,c6,Qd2,Nf7,Rfd1,d5,cxd5,Nxd5,Nxd5,cxd5,d4,exf4,exf4,Nd6,Rxc8+,Rxc8,Rc1,Nc4,Qc3,a6,Kh1,Bf7,Ng1,Qd6,Nf3,Rc6,Ne5,Nxe5,dxe5,Qc7,Qd2,Rxc1+,Qxc1,Qxc1+,Bxc1,Kf8,Kg1,Ke7,Kf2,Ke6,Ke3,Bf8', 'Kd4,Kd7,Bxd5,Bxd5,Kxd5', 'https://lichess.org/training/Wyhaa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wYho2', 'Blitz', 'grull', 2048, 'FM Mikasinski', 2542, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,g3,O-O,Bg2,Nc6,O-O,a6,Bg5,Rb8,a3,h6,Bxf6,Bxf6,b4,e5,d5,Nd4,Nxd4,exd4,Ne4,Bg7,Rc1,f5,Nd2,Re8,Nf3,Qf6,Qd3,f4,Rcd1,Bf5,Qxd4,fxg3,Qxf6,Bxf6,hxg3,Rxe2,Nd4,Bxd4,Rxd4,Rbe8,c5,Kf7,Rf4,Kg7,Bf3,Rc2,cxd6,cxd6,Kg2,Bd3,Rd1,Bb5,Rdd4,Rf8,Rxf8,Kxf8,Rf4+,Ke7,Be4,Rc4,Bxg6,Rxf4,gxf4,Kf6,Be4,Bc4,Kg3,Bb3,f3,Bd1,Kg4,Bb3,Kh5,Kg7,f5,Bd1,f6+,Kxf6,Kxh6,Ke5,Kg5,Bb3,Kg6,b6,Kg5,a5,bxa5,bxa5,Kg6,Bc4,Kg5,a4,Kg6,Bxd5', 'Bxd5,Kxd5,f4', 'https://lichess.org/training/wYho2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WYJ2q', 'Bullet', 'lasker82', 1930, 'haranski', 2002, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,h3,e5,Nde2,Be7,g4,Be6,Bg2,O-O,O-O,d5,exd5,Nb4,dxe6,Qxd1,Rxd1,Nxc2,Rb1,e4,Nxe4,Nxe4,Bxe4,Nb4,a3,Nc6,Rd7,fxe6,Rxb7,Bh4,Bxc6,Bxf2+,Kg2,Bb6,Bf3,Rad8,Nc3,Rd3,Rxb6,Rdxf3,Rxe6,Rf2+,Kg3,R8f3+,Kh4,Rh2,Be3,Kf7,Re5', 'Rhxh3+,Kg5,h6#', 'https://lichess.org/training/WYJ2q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WYjDw', 'Rapid', 'nlavrukhin', 1977, 'fusokefalefusa', 1923, 'e4,d6,d4,Nf6,Nc3,g6,Bc4,Bg7,Nf3,O-O,h3,c6,a4,Nbd7,O-O,Nb6,Ba2,Be6,d5,cxd5,exd5,Bd7,a5,Nc8,Re1,Qxa5,Bg5,Re8,Bc4,Qc5,Bb3,a6,Be3,Qc7,Qd2,Nb6,Bf4,Nc4,Bxc4,Qxc4,b3,Qc7,Rac1,Rac8,Ne4,Nxe4,Rxe4,Bf5,Rc4,Qb8,Rxc8,Rxc8,c4,Qc7,Nd4,Qc5,Be3,Bxd4,Bxd4,Qc7,Qh6,f6,g4,Be4,Re1,Bc2,Re3,Rf8,g5,Qd7,gxf6,exf6,Re6,Bf5,Rxf6,Rxf6,Bxf6,Qf7,Bg5,Be4,Qh4', 'Qf3,Qxe4,Qxe4', 'https://lichess.org/training/WYjDw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WyKvs', 'Blitz', 'shifo2', 1649, 'taheri64', 1666, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Re1,O-O,c3,d6,d4,exd4,cxd4,Bg4,Nbd2,Nxd4,h3,Bxf3,Nxf3,Nxf3+,Qxf3,Re8,Bd2,Qd7,Bc3,Qc6,Bb3,Rad8,Rad1,h6,Qe3,Qc5,Bd4,Qg5,f4,Qh4,e5,Nh5,exd6,Bxd6,Qxe8+,Rxe8,Rxe8+,Kh7', 'Bc2+,f5,Bxf5+,g6,Rh8#', 'https://lichess.org/training/WyKvs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wyL7T', 'Rapid', 'BlackKnight98', 2388, 'straxxx', 2298, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bg5,h6,Bh4,d6,e3,b6,Be2,Bb7,Qc2,Nbd7,Rd1,e6,O-O,a6,h3,Qe7,e4,g5,Bg3,e5,dxe5,dxe5,Nd5,Nxd5,cxd5,Rfc8,Qd2,Nf8,Rc1,Ng6,Rfd1,Nf4,Bf1,f5,exf5,Bxd5,Bc4,Bxc4,Rxc4,Rd8,Qc2,Rxd1+,Qxd1,Rd8,Qc2,c5,Qb3,Qf7,Qxb6', 'Rd1+,Kh2,Qxc4', 'https://lichess.org/training/wyL7T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wYnpA', 'Rapid', 'MTomic', 1731, 'Great_Egypt', 1692, 'd4,d5,Nc3,e6,a3,c5,dxc5,Bxc5,e3,a6,Nf3,Nf6,h3,O-O,Bd3,b5,b4,Bb6,O-O,Bb7,Bb2,Nc6,Ne2,Qe7,Ned4,Nxd4,Bxd4,Bc7,Bc5,Bd6,Bxd6,Qxd6,Qd2,e5,Be2,Ne4,Qd3,Rac8,Nd2,Rc3', 'Nxe4,Rxd3,Nxd6', 'https://lichess.org/training/wYnpA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wyr0N', 'Rapid', 'apScacchi', 2058, 'ElMuero92', 1865, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,c5,dxc5,Bxc5,Qb5+,Nd7,Qxb7,Ne7,O-O,Bb6,c3', 'Nc5,Qxa8,Qxa8', 'https://lichess.org/training/Wyr0N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wYrLB', 'Rapid', 'jaskolek', 1898, 'deddy0610', 1914, 'e4,c5,Bc4,e5,d3,d6,Nc3,Be7,Nge2,h6,f4,exf4,Bxf4,Nf6,O-O,O-O,Ng3,Nc6,Qd2,Kh7,Nd5,Nd4,c3,Ne6,Be3,Nxd5,Bxd5,Ng5,Rf2,Rb8,h4,Ne6,Raf1,f6,Nf5,Nc7,Bb3,Bxf5,Rxf5,Qe8,h5,Qd7,R1f3,a5,a4,b5,Rg3,bxa4,Bc4,d5,Bxd5,Nxd5,Rxd5,Qe6,Rg6,Rbd8,Rf5,c4,Qf2,cxd3,Qg3,Rf7,Bxh6,gxh6', 'Rxh6+,Kxh6,Qg6#', 'https://lichess.org/training/wYrLB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wyrrM', 'Rapid', 'Pudex', 1879, 'africool', 1991, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Be3,Qxb2,Nxc6,Qxa1,Bd4,Qxa2,Nc3,Qe6,Nb4,a6,Nbd5,Qc6,Qa1,e6,Bb5,axb5,Qxa8,exd5,exd5,Qc7,O-O,Bd6,Re1+,Ne7,Nxb5,Bxh2+,Kh1,Qb8,Qxb8,Bxb8,d6,O-O,dxe7,Re8,Bc5,d5,Bd6,Bd7,Bxb8,Bxb5,Bd6,f6,Kh2,Kf7,Re3,Rc8,c3,g5,Rh3,Kg6,Re3,h5,g3,Kf7,Bb4,Ra8,Kg2,Bc6,Re2,d4+,Kh2,Ra1,g4,h4,e8=Q+,Bxe8,Re7+,Kf8', 'Re1+,Kg7,Rxa1', 'https://lichess.org/training/wyrrM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wySAe', 'Rapid', 'Fidel_Ruiz', 1771, 'Tigerle', 1972, 'e4,e6,e5,d5,d4,c5,Bb5+,Bd7,Qd3,a6,Bxd7+,Qxd7,dxc5,Bxc5,c3,Nc6,Be3,Nxe5,Qd2,Bxe3,Qxe3,Nc4,Qe2,Nf6,b3,Nd6,Nd2,Nfe4,Nxe4,Nxe4,Qd3,Rc8,c4,dxc4,Qxe4,c3,Ne2,Qd2+,Kf1,c2,Qe3', 'Qd1+,Rxd1,cxd1=Q#', 'https://lichess.org/training/wySAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wysyG', 'Blitz', 'WIM Olenahess', 2155, 'Srbko', 2256, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e4,d6,d4,O-O,Be2,c5,O-O,cxd4,Nxd4,Nc6,Be3,Bd7,Nc2,Rc8,Qd2,Ne5,b3,a6,f3,Re8,Rac1,Qa5,Rfd1,b5,b4,Qc7,c5,dxc5,Bxc5,Be6,Nd4,Bc4,h3,Nfd7,Nd5,Bxd5,exd5,Nxc5,Rxc5,Qb7,Nb3,Nc4,Bxc4,bxc4,Na5,Qa7,Qf2,c3,Nc6,Qb6,Rxc3', 'Qxf2+,Kxf2,Bxc3', 'https://lichess.org/training/wysyG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WyT4E', 'Blitz', 'J4nsen', 1548, 'Omer190', 1545, 'e4,e5,Nf3,Qf6,Bc4,Bc5,O-O,d6,d3,h6,h3,c6,Re1,b5,Bb3,a5,a3,a4,Ba2,g6,c4,g5,cxb5,cxb5,Bd5,Ra7,Nc3,g4,Nh2,gxh3,g3,Ne7,Nxb5,Ra5,Nc7+,Kd7,Bd2,Ra7,Nb5,Ra5,Bxa5', 'Qxf2+,Kh1,Qg2#', 'https://lichess.org/training/WyT4E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wytb8', 'Blitz', 'McDeth', 1961, 'Muccar', 2007, 'e4,c5,Nf3,e6,Bd3,Nf6,c3,Nc6,Bc2,c4,O-O,d5,e5,Nd7,Re1,Qc7,d4,cxd3,Qxd3,Ndxe5,Nxe5,Nxe5,Rxe5,Qxe5,Be3,Bd7,Nd2,Rc8,Bd4,Qg5,Nf3,Qh5,Re1,a6,Ne5,Bb5,Qg3,Rg8,a4,Bc6,Bd1,Qf5,Bg4,Qc2,Qf3,Rc7,Qf4,Bd6,Bd1,Qxb2,Qh4,h6,Nxf7,Kxf7,Bh5+,g6,Qf6+,Ke8,Rxe6+,Re7', 'Bxg6+,Rxg6,Qxg6+,Kd7,Rxd6+', 'https://lichess.org/training/Wytb8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WYUeR', 'Blitz', 'DragonBallSean', 1763, 'more02', 1767, 'e4,d5,Nc3,d4,Nce2,d3,cxd3,Qxd3,Ng3,Qd8,Nf3,Bg4,Be2,e6,d4,Bd6,Be3,Nd7,Qd2,e5,dxe5,Nxe5,Nxe5,Bxe2,Nxf7,Kxf7,Qxe2,Bxg3,fxg3,Nf6,O-O,Rf8,Bg5,Kg8,Bxf6,Rxf6,Qc4+,Kh8,Rfd1,Qc8,e5,Rc6,Qf4,Qe6,Re1,Rc4,Qg5,Rf8,Rad1,Qb6+,Kh1,Qf2,Rg1,Re4,Rd7', 'Qxg1+,Kxg1,Re1#', 'https://lichess.org/training/WYUeR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WYvGN', 'Rapid', 'reka', 1899, 'vlad-6119', 1686, 'e4,e5,Bc4,Nf6,Nc3,d6,Nf3,h6,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,O-O,Be7,Re1,O-O,h3,Be6,Bd3,d5,e5,Nd7,Bf4,Bb4,Qd2,Qh4,Bg3,Bxc3,bxc3,Qe7,h4,f5,Bf4,Qxh4,Rab1,Nc5,Bg3,Qe7,Be2,Ne4,Qe3,f4,Bxf4,Qh4,Bg3,Nxg3,fxg3,Qe4,Qxe4,dxe4,Bd1,Rab8,Rxb8,Rxb8,Be2,Bxa2,Ra1,Rb2', 'Rxa2,Rxa2,Bc4+,Kf8,Bxa2', 'https://lichess.org/training/WYvGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wyVuX', 'Rapid', 'jacek63', 1969, 'Haroon_40', 1979, 'd4,d6,c4,Nd7,Nc3,e5,d5,Ngf6,e4,Be7,f4,O-O,fxe5,dxe5,Nf3,Bc5,Na4,Bd6,Bd3,b6,Bg5,Bb4+,Nc3,Bc5,Qd2,Be7,O-O,Nc5,Bc2,h6,Bh4,Ncd7,Nb5,a6,d6,cxd6,Nxd6,Nc5,Nf5,Qxd2', 'Nxe7+,Kh7,Nxd2', 'https://lichess.org/training/wyVuX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WYY5y', 'Rapid', 'yu401512', 1711, 'kokoadel', 1801, 'd4,d5,Bf4,Bf5,c4,c6,e3,Nd7,Nc3,f6,Nf3,g5,Bg3,Nb6,cxd5,Nxd5,Nxd5,Qxd5,Nd2,Qd7,Qh5+,Kd8,Bc4', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/WYY5y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wyZmh', 'Blitz', 'Nikita2410', 1784, 'Thmrjm', 1749, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,b6,Bg5,Be7,e3,Nbd7,Be2,Bb7,O-O,O-O,cxd5,Nxd5,Bxe7,Qxe7,Nxd5,Bxd5,b3,c5,dxc5,Nxc5,Nd4,Qg5,Bf3,Rfd8,Bxd5,Rxd5,Qf3,Rad8,Rfd1,e5,Nc6,e4,Qe2,Rxd1+,Rxd1,Rxd1+,Qxd1,Nd3,Nxa7,Qf6,Qc2', 'Qa1+,Qb1,Qxb1#', 'https://lichess.org/training/wyZmh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wz06P', 'Rapid', 'mamorego', 1928, 'fjavier55', 1670, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,c6,Be2,Bg4,d4,e6,Bd2,Nf6,g3,Be7,Bf4,Qb4,O-O,Nbd7,Qd3,O-O,a3,Qa5,Rfe1,Nd5,Nxd5,Qxd5,c4,Qh5,Ne5,Bxe2,Rxe2,Nxe5,Rxe5,Qg4,Kg2,h5,h3,Qg6,Qxg6,fxg6,Rae1,Bd6,Rxe6,Bxf4,gxf4,Rxf4,R1e4,Raf8,Rxf4,Rxf4,Rd6,g5,f3,g4,hxg4,hxg4,Rd8+,Kf7,fxg4,Rxg4+,Kf3,Rh4,Rd7+,Kf8,Rxb7,Rxd4,Rxa7,Rxc4,Rb7,g5,b4,Rc3+,Kg4,Rxa3,Kxg5,Rb3,Kf6,Rf3+,Ke6,Rb3,Kd6,Rc3,Rb6,Kf7', 'Rxc6', 'https://lichess.org/training/wz06P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wz0Lw', 'Rapid', 'choucho96', 1984, 'calefodes', 1857, 'd4,Nf6,Nc3,g6,e4,d6,Be3,Bg7,f3,Nbd7,Qd2,b6,Bb5,Bb7,Nge2,a6,Bc4,b5,Bb3,c5,dxc5,Nxc5,O-O-O,Nxb3+,cxb3,Qd7,h4,Rc8,Kb1,a5,h5,b4,Na4,O-O,hxg6,fxg6,Nb6,Nxe4,fxe4,Bxe4+,Ka1,Rc2,Nxd7', 'Bxb2+,Kb1,Rxd2#', 'https://lichess.org/training/wz0Lw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wz1j7', 'Classical', 'Chrno_Crusade', 1813, 'siamy', 1631, 'e4,e6,d4,d5,exd5,Qxd5,Nf3,Nc6,Nc3,Qd8,Bb5,Bd7,Bxc6,bxc6,O-O,Bd6,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/Wz1j7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZ2p5', 'Classical', 'Colourless999', 1698, 'jonica321', 1691, 'e4,e5,Nc3,Nf6,Nf3,Bb4,Bc4,d6,Ng5,O-O,d3,Bxc3+,bxc3,d5,exd5,Nxd5,Qf3,Be6,Bd2,c6,Qe4,g6,Qxe5,Bh3,O-O,Re8,Qg3,Bf5,Qh4,h5,Qd4,Qd6,Qh8+,Kxh8,Nxf7+,Kg7,Nxd6,Re2,Nxf5+,gxf5,Rad1,Nd7,Bxd5,cxd5,Rfe1,Rae8,h3', 'Rxd2,Rxe8,Rxd1+', 'https://lichess.org/training/wZ2p5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZ2TI', 'Blitz', 'ShEggs', 2350, 'FM ChickenElephant', 2205, 'd4,Nf6,Nf3,e6,Bf4,b6,Nbd2,Bb7,e3,d6,c4,Nbd7,Bd3,Qe7,e4,e5,Bg5,h6,Bh4,g5,dxe5,dxe5,Bg3,Nh5,Qe2,Bg7,O-O-O,O-O-O,Bc2,Kb8,Rhe1,Rhe8,Nf1,Nf4,Bxf4,exf4,Ba4,Kc8,h3,Qb4,Bxd7+,Rxd7,Rxd7,Kxd7,Rd1+,Kc8,Qd2,Qxd2+,N1xd2,Bxe4,Re1,Bc6,Rxe8+,Bxe8,Nh2,Bd7,f3,Bf5,Ng4,Bd3,Nf2,Be2,b3,c5,Kc2,Kc7,a4,Bd4,Nd1,Kd7,Nc3,Bxc3,Kxc3,Ke6,b4,cxb4+,Kxb4,a6,a5,bxa5+,Kxa5,Ke5,Kb6,a5,Kxa5', 'Kd4,c5,Kxc5', 'https://lichess.org/training/WZ2TI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZ64J', 'Rapid', 'FerencSandor', 1661, 'MUSERNST', 1649, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,h6,Nc3,Qd8,d5,Nb8,Bf4,e6,Nb5,Bd6,Ne5,a6,Nxd6+,cxd6,dxe6,dxe5', 'exf7+,Kxf7,Qxd8', 'https://lichess.org/training/WZ64J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZ6KS', 'Blitz', 'GreatDarvin', 2023, 'Yurkofx7555', 2042, 'Nf3,e6,e4,d5,Nc3,Be7,d4,dxe4,Nxe4,Nf6,Nxf6+,Bxf6,c3,O-O,Bd3,Nd7,g3,c5,h4,cxd4,cxd4,e5,dxe5,Nxe5,Nxe5,Bxe5,O-O,Qb6,Bxh7+,Kxh7,Qh5+,Kg8,Qxe5,Bh3,Re1,Rfe8,Qxe8+,Rxe8,Rxe8+,Kh7,Kh2,Qc6,Kxh3,Qxe8,Be3,Qe6+,Kh2,a6,a3,Qe4,Rc1,b5,Rc5,g6,h5,gxh5,Rxh5+,Kg6,Rg5+,Kf6,Kh3,Qh1+,Kg4,Ke6,Rh5,Qd1+,Kh4,f5,Rh6+,Ke5,Bf4+,Ke4,Rxa6', 'Qg4#', 'https://lichess.org/training/wZ6KS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wz7mS', 'Rapid', 'Pepa_Pig', 2340, 'teslim', 1962, 'd4,c5,dxc5,e6,Nc3,Bxc5,e4,Ne7,Na4,Qa5+,c3,Nbc6,Nf3,d5,b4,Nxb4,Nxc5,Qxc5,cxb4,Qxb4+,Nd2,dxe4,Rb1,Qa5,Bb5+,Kf8,O-O,Nd5,Nxe4,Qxa2,Rb3,Qa5,Ba3+,Kg8,Qxd5,exd5', 'Nf6+,gxf6,Rg3+,Bg4,Rxg4#', 'https://lichess.org/training/wz7mS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wzAWz', 'Blitz', 'untainted', 2081, 'vatuli28', 1989, 'e4,d5,exd5,Qxd5,Nf3,Qd8,d4,c6,Bc4,Bf5,Ne5,e6,g4,Bg6,h4,f6,Nxg6,hxg6,Bd3,Kf7,h5,Ne7,hxg6+,Kg8,Rxh8+,Kxh8,Ke2,Qd5,Qg1,Ng8,Be3,Nh6,Nc3,Qd6,Bxh6,gxh6,Ne4,Qf4,Qg2,Nd7,Rh1,Bg7,g5,fxg5,Nxg5,Nf6,Nf7+,Kg8,Qh3,Qxd4,Nxh6+,Kf8,Qxe6,Re8,Qxe8+,Nxe8,Nf5,Qe5+,Kd1,Nf6,Re1,Qf4,Nxg7,Kxg7,Re7+,Kh6,g7,Qxf2,Rf7,Qg1+,Ke2,Nd5,Rxb7,Qg2+,Kd1,Ne3+,Ke1,Ng4,g8=Q', 'Qf2+,Kd1,Ne3+,Kc1,Qe1#', 'https://lichess.org/training/wzAWz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WzAzR', 'Rapid', 'Ternavsky', 1753, 'IgorDonbass', 1767, 'd4,Nf6,Bg5,e5,dxe5,h6,Bh4,g5,Bxg5,hxg5,exf6,Qxf6,Nc3,Bb4,Qd3,Nc6,O-O-O,Bxc3,Qxc3,Qxc3,bxc3,d6,Nf3,f6,Nd4,Nxd4,cxd4,Bd7,e4,O-O-O,c4,a6,g3,Bg4,Rd2,Bf3,Rg1,Bxe4,Bg2,Bxg2,Rxg2,Rde8,f4,Re1+,Kc2,Re4,fxg5,fxg5,Kd3,Rhe8,Rde2,Rxe2,Rxe2,Rxe2,Kxe2,c5,d5,Kc7', 'h4,gxh4,gxh4', 'https://lichess.org/training/WzAzR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZBDx', 'Blitz', 'mesterseen', 2401, 'IM beyondchessben', 2511, 'Nf3,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,Qb3,Nb6,d4,Bg7,Bf4,O-O,h4,Nc6,e3,Na5,Qc2,Bf5,e4,Bg4,Rd1,Qc8,Be2,c5,d5,e6,d6,Bxf3,Bxf3,e5,Bg5,Nc6,h5,Nd4,Qd3,h6,Be7,g5,Bxf8,Qxf8,O-O,Qxd6,Nb5,Qe6,Nxd4,exd4,b3,Be5,Qe2,Bd6,Bg4,Qe5,g3,Re8,Bf5', 'Qxf5,exf5,Rxe2', 'https://lichess.org/training/WZBDx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZbdy', 'Rapid', 'natik1069', 1711, 'WindRyb', 1705, 'd4,d5,Bf4,c5,e3,e6,c3,Nc6,Nf3,b5,Bd3,c4,Bc2,Nf6,Nbd2,Be7,Ne5,Nxe5,Bxe5,O-O,Nf3,Nd7,h4,Nxe5,Nxe5,Bd6,Nf3,f6,Qb1,g6,h5,f5,hxg6,hxg6,Nh4,Qf6,f4,Rf7,Qd1,Rh7,Qf3,Rxh4,O-O-O,Rxh1,Rxh1,Bb7,Qh3,Rc8', 'Qh7+,Kf8,Qxb7', 'https://lichess.org/training/wZbdy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wzC5z', 'Rapid', 'Patagoniaa', 1717, 'juleSWG', 1709, 'e4,c5,Nc3,Nc6,Nf3,Nf6,d4,cxd4,Nxd4,e6,e5,Nxe5,Bg5,Nc6,Nxc6,bxc6,Qd4,Be7,Ne4,O-O,Nxf6+,Bxf6,Bxf6,Qxf6,Qxf6,gxf6,O-O-O,d5,g4,e5,h3,f5,gxf5,Bxf5,Ba6,Rab8,h4,Rfd8,h5,h6,Rhg1+,Kf8,Rg3,Rb4,Rdg1,Ke7,Rc3,Rb6,Be2,Rdb8,b3,a5,a4,Rc8,Rc5,Ra8,Re1,Kd6,Rc3,Rb4,Kb2,Rh4,Rg1,Rb8,Rg7,Be6,Rh7,Rh2,Rf3,Bg4,Rf6+,Be6,Rhxf7,Rg8,Rxh6,Rgg2,Rff6,Rxf2,Rxe6+,Kc5,Rxc6+,Kd4,Bd3,e4,Bxe4,dxe4,Rcd6+,Ke3,Kc1,Rxc2+,Kb1,Rb2+,Kc1,Rbc2+,Kb1,Rb2+,Ka1,Ra2+,Kb1,Rhb2+,Kc1,Rc2+,Kd1,Rd2+,Rxd2,Rxd2+,Kc1,Rh2,b4,axb4,a5,b3,a6,b2+,Kb1,Kd2,a7,Kc3,Rc6+,Kb3,Rb6+,Kc3,a8=Q', 'Rh1+,Ka2,Ra1#', 'https://lichess.org/training/wzC5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZCG0', 'Rapid', 'MaxXavierG', 1780, 'sicuta', 1769, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,a6,Bc4,e6,O-O,Be7,Nf3,b5,Bb3,Na5,Be3,Nxb3,cxb3,Bb7,Qd4,e5,Qb6,Qd7,Rad1,Nf6,Nxe5,Qc8,Nf3,Nxe4,Nxe4,Bxe4,Nd2,Qc6', 'Nxe4,Qxb6,Bxb6', 'https://lichess.org/training/WZCG0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WzCI2', 'Classical', 'Reydelmar', 1962, 'Nekrogoblikon', 1784, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,g6,Nc3,Bg7,Be2,Qb6,Na4,Qb4+', 'Bd2,Qxd4,Nxd4', 'https://lichess.org/training/WzCI2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZdeE', 'Rapid', 'grzes_chess', 1864, 'Bensty-key', 1765, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nf3,Qe7,Bd3,b6,O-O,Bb7,e5,Nd5,Bc4,Nf4,d4,g5,Bxf4,gxf4,d5,Nb4,d6,cxd6,exd6,Qxd6,Re1+,Kd8,a3,Qxd1,Rxd1,Nxc2,Ra2,Rg8,Bxf7', 'Bxf3,Bxg8,Bxd1', 'https://lichess.org/training/wZdeE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wzdmp', 'Rapid', 'moham6265', 1995, 'abadanyadgar2', 1869, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Be7,c3,Nf6,Re1,O-O,h3,a6,Ba4,b5,Bb3,Na5,Bc2,c5,d4,cxd4,cxd4,exd4,Nxd4,Bd7,b3,Nc6,Nf5,Nb4,Na3,Bxf5,exf5,Nxc2,Nxc2,Qd7,Bb2,Rfe8,Nd4,h6,Qf3,Rac8,g4,d5,Re2,Ne4,Rd1,Qc7,Qd3,Qf4,Nf3,Bd6,Bc1,Rxc1,Rxc1,Qxc1+,Re1,Qc3', 'Qxc3,Nxc3,Rxe8+', 'https://lichess.org/training/Wzdmp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wzdzr', 'Classical', 'yom_b', 1905, 'invachess90', 1885, 'c4,c5,Nc3,Nf6,Nf3,d5,cxd5,Nxd5,e3,e6,Be2,Nc6,a3,Be7,O-O,O-O,Ne1,a6,Nc2,b5,d3,Bb7,e4,Nf6,Be3,Nd4,Na2,e5,f4,exf4,Bxf4,Nxc2,Qxc2,Nd7,Rad1,Bg5,Bd6,Be7,Bg3,Bg5,Nc3,Be3+,Kh1,Re8,Rf3,Qg5,Rf5,Qh6,Nd5,Bxd5,Rxd5,Nf6,Rd6,Bf4,Bxf4,Qxf4,Qxc5,Rac8,Rc6,Rxc6,Qxc6,Qe3,Bf1,Rf8,Qxa6', 'Ng4,h3,Nf2+', 'https://lichess.org/training/wzdzr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wzerK', 'Rapid', 'leandro1989', 1891, 'Evefghi', 1985, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,Be6,Ba3,g6,Rb1,Qc7,c4,Bg7,Nf3,Qa5+,Bb4,Qxa2,Bd3,Bxc4,Ra1,Qb3,Rb1,Qxd1+,Rxd1,Bxd3,Rxd3,a5,Bc5,Nd7,O-O,Nxc5,dxc5,e6,Rb1,a4,Ra3,O-O,Rxb7,Rfd8,g3,Rd1+,Kg2,Rc1,Rb4,Rxc5,Rbxa4,Rxa4,Rxa4,Bf6,Ra8+,Kg7,Rc8,Rc1,e5,Be7,Rc7,Ba3,Nd4,Kf8,Rxc6,Rd1,Rc8+,Ke7', 'Nc6+,Kd7,Rd8+,Kxc6,Rxd1', 'https://lichess.org/training/wzerK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZEzP', 'Classical', 'Aroh9', 1708, 'Cursion', 1685, 'e4,e6,d4,d5,e5,c5,c3,Nh6,Be2,Nc6,Bf4,Qb6,b3,cxd4,c4,Bb4+,Nd2,Nf5,Nf3,O-O,O-O,Bc3,Rb1,Nb4,Ne1,Nxa2,Bg4,Bb4,Qf3,Ne7,Nd3,h6,h4,a5,cxd5,Nxd5,Nc4,Qa6,Ra1,Nac3,Nxb4,Nxb4,Nd6,Nbd5,Rfd1,Bd7,Rxd4,Bc6,Rxd5,Nxd5,Qg3,Nxf4,Qxf4,Qd3,Bh5,Qxb3,Nxf7,a4,Nxh6+,gxh6,Qxh6,Be4,Qg5+,Kh8,Rd1,Rg8,Qh6+,Bh7,Rd7,Qb1+,Kh2,Qf5,g4,Qxf2+,Kh3,Qf3+,Kh2,Qe4', 'Qf6+,Rg7,Qxg7#', 'https://lichess.org/training/WZEzP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WzF7D', 'Rapid', 'HoPeiKiee0312', 1675, 'Ag12349', 1609, 'e4,e5,Qh5,Nf6,Qxe5+,Qe7,Qxc7,Qxe4+,Ne2,Na6,Qg3,Qxc2,Nbc3,Qg6,Qe3+,Be7,g3,O-O,Nf4,Bc5,Qf3,Qg4,Qd3,Nh5,Bh3,Nxf4,gxf4,Qxf4,Ne2,Qxf2+,Kd1,d6,Qc3,Bxh3,Qxh3,h6', 'Rf1,Qxf1+,Qxf1', 'https://lichess.org/training/WzF7D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZg1q', 'Rapid', 'HatsuseIzuna', 1921, 'luckynrone', 1707, 'g4,e5,Bg2,d5,c4,c6,Nc3,d4,Ne4,Nf6,d3,Nxg4,Nf3,f5,Bg5,Be7,Bxe7,Qxe7,Ng3,O-O,h3,Nf6,h4,Ng4,Bh3,e4,Nxd4,Nxf2,Kxf2,e3+,Ke1,Qe5,Ngxf5,Bxf5,Nxf5,Rxf5,Bxf5', 'Qg3+,Kf1,Qf2#', 'https://lichess.org/training/WZg1q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZgAk', 'Blitz', 'veron00743', 1645, 'aakdari', 1617, 'e4,c5,Nf3,d6,d4,cxd4,c3,dxc3,Nxc3,a6,Bc4,Nc6,Bg5,h6,Bh4,Nf6,O-O,Bd7,Nd5,Nxd5,exd5,Na5,Bd3,Qb6,Rb1,e6,b4,Nc6,dxc6,Bxc6,a4,Qc7,Rc1,Qd7,b5,axb5,axb5,Bxb5,Bxb5,Qxb5,Qc2,Qd7,Rfd1,Be7,Ne5,Qb5,Qc8+,Rxc8', 'Rxc8+,Bd8,Rxd8#', 'https://lichess.org/training/wZgAk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZHD1', 'Classical', 'ouputdeath', 1661, 'Luis_Alberto_Monaco', 1693, 'd4,c5,d5,e6,c4,g6,Nc3,Nf6,Bg5,Bg7,Nf3,O-O,Qd2,d6,e4,e5,Be2,Bg4,h3,Bxf3,Bxf3,Nbd7,O-O,Qb6,Rfe1,Qc7,Rac1,a6,a4,Qa5,Qc2,h6,Be3,Nh7,Be2,f5,Bd3,Ndf6,exf5,e4,Nxe4,gxf5,Nxf6+,Bxf6,Bxf5,Ng5,Bxg5,Bxg5,Re6,Rf6,Rce1,Raf8,Re8,Kg7,R1e7+,R6f7,Rxf7+,Rxf7,Be6', 'Qe1+,Kh2,Bf4+,g3,Bxg3+,fxg3,Rf2+,Qxf2,Qxf2+', 'https://lichess.org/training/wZHD1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZHDK', 'Rapid', 'Alexandr8836', 2013, 'YaGayar', 1708, 'd4,e6,Bf4,d5,e3,a6,c3,Nf6,Nf3,Bd6,Bg3,Nc6,Bd3,h6,Nbd2,Qe7,Ne5,Bxe5,dxe5,Nd7,f4,f6,Qh5+,Kd8,exf6,Nxf6,Qf3,Rf8,O-O-O,e5,fxe5,Nxe5,Bxe5,Qxe5,Nb3,Bg4,Qf1,Bxd1,Qxd1,Qxe3+,Kb1,Kd7,Re1,Qg5', 'Nc5+,Kc8,Ne6', 'https://lichess.org/training/wZHDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wzHfe', 'Blitz', 'Talsgift', 2066, 'Journey-to-GM', 2095, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,a6,O-O,Nge7,Qe2,b5,Bb3,Bb7,Rd1,Na5,Bc2,Ng6,Bg5,Be7,Bxe7,Qxe7,Rac1,O-O,h3,Rac8,Bb1,Rfd8,Nd4,Ne5,f4,Nec6,e5,Nxd4,Rxd4,d6,Qd3,g6,exd6,Qd7,Rd1,Nc6,Ne4,Kg7,Qc3,f6,R4d2,e5,fxe5,fxe5,Qg3,Rf8,a3,Rf4,Ba2,Rxe4,Rf2,Rf4,Rxf4,exf4,Qxf4,Rf8,Qe3,Qe8,Qc3+,Qe5,Qd2,Na5,d7,Nc4,Bxc4,bxc4,d8=Q,Rxd8,Qxd8,Qe3+,Kh1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/wzHfe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WzKEp', 'Blitz', 'sebi717', 1653, 'ChessAttacker010', 1596, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,O-O,Nge7,cxd4,Bb6,Ng5,O-O,Qh5,h6,Nxf7,Rxf7,Qxf7+,Kh8,d5,Ne5,Qf4,Nxc4,e5,Na5,Bb2,Nxd5,Qd2,c6,e6,dxe6', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/WzKEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WzL7P', 'Blitz', 'bub08', 1773, 'Cden', 1796, 'e4,a6,d4,b5,Bd3,Bb7,f3,e6,Ne2,c5,c3,c4,Bc2,Nf6,O-O,d5,e5,Nfd7,f4,g6,Be3,h5,Qe1,h4,h3,Bh6,Qf2,Qe7,Nd2,Nc6,Qf3,b4,a3,b3,Bd1,a5,Qg4,a4,Nf3,Bf8,Nxh4,Rxh4,Qg3,Rh8,Kh2,Bg7,Ng1,Nf8,Nf3,Nh7,Be2,O-O-O,Rf2,Rdg8,Raf1,g5,fxg5,Nxg5,Bxg5,f6,exf6,Bxf6,Bxf6,Qxf6,Qd6,Qg6,Ne5,Nxe5,Qxe5,Bc6,Qd6,Bd7,Qa6+,Kb8,Bf3,Qg3+,Kh1', 'Rxh3+,gxh3,Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/WzL7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WzLjE', 'Rapid', 'AmaozinhadoTemer', 1737, 'aerodoc', 1730, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,Ne5,Qe6,O-O,Nd7,Nxd7,Qxd7,Re1+,Be7,Qe2,Nf6,d3,Rc8,Bg5,Rc6,Bxf6,Rxf6,Nc3,Re6,Qd2,O-O,Rxe6,fxe6,Re1,a6,Qe2,Rf6,f3,Bd6,Nd1,d4,Nf2,Rh6,h3,Bg3,Rf1,e5,Ne4,Bf4,Nxc5,Qe7,Ne4,Rg6,Kh1,Qh4,Qf2,Bg3,Nxg3,Rxg3,Re1', 'Rxh3+,gxh3,Qxf2', 'https://lichess.org/training/WzLjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZlsD', 'Rapid', 'GRT984', 1680, 'vatoz1', 1634, 'e4,e5,Nf3,d6,Bc4,c6,d4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Nc3,e4,Ne5,Nb6,f3,Qh4+,g3,Qf6,Nb5,exf3,Nc7+,Kd8,Nxa8,f2+,Kf1,Bd6,Nxb6,axb6,Ng4,Qf5,Ne3,Qe4,Kxf2,Nf6,Re1,Re8,Nc4', 'Ng4+,Kg1,Qxe1+,Qxe1,Rxe1+', 'https://lichess.org/training/wZlsD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZlTU', 'Blitz', 'edmemphis', 1909, 'jahirnavarro', 1921, 'd4,Nf6,Nc3,d5,Bf4,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Bb4,Nf3,O-O,Be5,Nbd7,Ng5,Bxc3+,bxc3,h6,h4,Ne4,f3,Nxg5,hxg5,Qxg5,O-O-O,Nxe5,dxe5,Qxe5,g4,c5,g5,Qxg5,Rdg1,Qf6,Rg4,c4,Qe2,Qxc3,Rhg1,g6,Qh2,Kh7,Rh4,Qxe3+,Kb1,Rg8,Rh1,h5,f4,a5,Rxh5+,gxh5', 'Qxh5+,Kg7,Qh6#', 'https://lichess.org/training/wZlTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Wzmxm', 'Rapid', 'pedroson', 1690, 'Garotodeferro', 1833, 'e4,e5,Nf3,Nc6,Bb5,Bd6,Bxc6,dxc6,O-O,Nf6,d3,Bg4,Nbd2,O-O,b3,Re8,Bb2,Qd7,Re1,Rad8,Qc1,Nh5,g3,Bh3,Qd1,Qg4,Nh4,Qg5,Ndf3,Qf6,Nd2,Nf4,Nhf3,Qg6,Nh4,Qg5,Ndf3,Qg4,Nd2,Qxd1,Raxd1,Ng6,Nxg6,fxg6,Nf3,Bg4,Kg2,Rf8,Nxe5,Bxd1,Rxd1,Bxe5,Bxe5,Rf7,Bb2,Rdf8,Rf1,c5,f3,b5,a4,b4,c3,a5,d4,Rd8,Rd1,bxc3,Bxc3,cxd4,Bxa5,d3,Kf2,c5,Ke3,Rd6,Bc3,Rc7', 'Be5,Rcd7,Bxd6', 'https://lichess.org/training/Wzmxm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZn7i', 'Rapid', 'Puri01', 1920, 'Xenobius', 2000, 'd4,Nf6,Bf4,g6,c4,d6,Nc3,Bg7,e3,O-O,Bd3,c6,Nf3,Re8,h3,Nbd7,a3,e5,dxe5,dxe5,Bg5,Nc5,Bc2,Qc7,Qe2,b6,b4,Ne6,Bh4,Bb7,O-O,c5,b5,e4,Nh2,Nh5,Nd5,Bxd5,cxd5,Bxa1,Rxa1,Neg7,g4,Qe5,Rd1,Nf6,Qc4,Rad8,Bg3,Qe7,d6,Qe6,Qc3,Nd7,g5,f5', 'Bb3,Qxb3,Qxb3+', 'https://lichess.org/training/WZn7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WznBm', 'Rapid', 'aragonne50', 1801, 'Teodorico51', 1770, 'e4,e5,Nf3,d6,Bc4,Be7,h3,Nf6,Nc3,c6,d4,exd4,Nxd4,b5,Bd3,h6,O-O,O-O,Nf3,a6,a3,c5,e5,dxe5,Nxe5,c4,Be2,Bb7,Bf3,Bxf3,Nxf3,Qc7,Re1,Nc6,Be3,Rad8,Qc1,Ne5,Nxe5,Qxe5,Bf4,Qc5,Qe3,Qxe3,Bxe3,Bd6,Rad1,Be5,Bc5,Rxd1,Rxd1,Rc8,Bb4,Nh5,Rd5,Bxc3,Bxc3,Nf4,Re5,Rd8,Re1,h5,h4,Rc8,g3,Nd5,Ba5,Nf6,Kf1,Kh7,Bc3,Nd5,Ba5,Kg6,Rd1,Nf6,Rd6,Ra8,Bc3,Kf5,f3,Ne8,Rd5+,Ke6,Rxh5,Nd6,Bxg7,Nf5,Rg5,f6,Rg6,Ne3+,Ke2,Nxc2,Rxf6+,Ke7,Rf4,Rg8,Bf6+,Ke6,Bg5,a5,Re4+,Kd5,Re7,b4,axb4,axb4,Kd2,Na1,Kc1,Nb3+,Kb1,Ra8,f4', 'Ra1+,Kc2,Rc1#', 'https://lichess.org/training/WznBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZnDx', 'Classical', 'Quest8374', 1823, 'Gasan_63', 1781, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Qf6,dxc5,Qxa1,Qd5,Qf6,Bg5,Qg6,Ne5,Nxe5,Qxe5+,Kf8,O-O,Nf6,h4,h6,h5,Qxe4', 'Bxf6,Qxe5,Bxe5', 'https://lichess.org/training/WZnDx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZogt', 'Blitz', 'zzzxbbb', 1988, 'Ipsstarman', 1862, 'e4,d6,d4,Nf6,Nc3,c6,Be3,e5,h3,Qb6,Na4,Qa5+,Nc3,Qb4,Qc1,Nxe4', 'a3,Qa5,b4,Qc7,Nxe4', 'https://lichess.org/training/WZogt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZOKs', 'Rapid', 'Nitass', 1601, 'literabit4477', 1631, 'g3,Nc6,Bg2,b6,d4,e6,c4,d5,Nc3,Bb4,Qa4,Bxc3+,bxc3,Bd7,Qc2,dxc4,Nf3,Nge7,Ne5,O-O,Nxd7,Qxd7,Qa4,a5,Qxc4,Nd5,O-O,Nce7,e4,b5,Qc5,Nb6,e5,Rad8,Bg5,Na4', 'Qxe7,Qxe7,Bxe7', 'https://lichess.org/training/wZOKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wzp2x', 'Blitz', 'Krawec', 1628, 'brain_master', 1869, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,c5,d5,O-O,e5,Nfd7,e6,fxe6,dxe6,Nf6,Nf3,Bxe6,Bd3,Nh5,g3,Bg4,O-O,Nc6,Be2,Bh3,Re1,Nd4,Nxd4,Bxd4+,Kh1,Nf6,Bf3,e5,fxe5,dxe5,Nd5,e4,Bxe4,Nxe4,Rxe4,Rf1+,Qxf1,Bxf1,Ne7+,Kg7,Bg5,Qf8,Rf4,Qg8,Rfxf1,Qxc4,Rf4,Re8,Raf1,Rxe7,Bxe7,Qd5+,R4f3,Bxb2,h4,b5,Kh2,Bd4,Bf8+,Kg8,Bh6,Qxa2+,Kh3,Bg7', 'Rf8+,Bxf8,Rxf8#', 'https://lichess.org/training/wzp2x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZp8E', 'Rapid', 'adrienr', 1912, 'bjzRc2', 1918, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Nc6,Ne2,Qb6,Nf3,cxd4,cxd4,Be7,g3,O-O,Bg2,f6,Nc3,fxe5,Nxe5,Nxd4,Be3,Bc5,Na4,Qb4+', 'Bd2,Nxe5,Bxb4', 'https://lichess.org/training/WZp8E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZQbg', 'Blitz', 'hedgehog280', 2380, 'FM napolinicolo', 2356, 'e4,c5,Nc3,Nc6,f4,g6,Bc4,Bg7,d3,e6,h4,Nge7,h5,d5,Bb5,a6,Bxc6+,Nxc6,Nf3,b5,exd5,exd5,Qe2+,Be6,f5,gxf5,Bf4,Nd4,Nxd4,Bxd4,O-O-O,Qf6,Nxd5,Bxb2+,Kb1,Qd4,Nc7+,Kd7,Nxa8,Rxa8,c4,Ba3,Be5,Qg4,Qxg4,fxg4,d4,bxc4,dxc5+,Kc6,Rd6+,Kxc5,Rhd1,Bf5+,Ka1,Bd3,Rf6,Re8', 'Bd6+,Kd5,Bxa3', 'https://lichess.org/training/wZQbg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZRko', 'Blitz', 'Magicsquare4', 2068, 'Pawnographic', 2002, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,c5,dxc5,Bxc5,O-O,O-O,Bg5,h6,Bh4,Nc6,Nc3,Be6,Re1,g5,Nxg5,hxg5,Bxg5,Bxf2+,Kxf2,Qb6+,Kf1,Ng4,Qd2', 'Nxh2+,Ke2,Bg4#', 'https://lichess.org/training/wZRko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wzTIe', 'Rapid', 'duguesclin', 1718, 'bfigueira', 1713, 'd4,d5,c4,c6,g3,Nf6,Bg2,e6,cxd5,cxd5,Nc3,Qa5,e3,Bd6,Ne2,O-O,O-O,Nbd7,Bd2,Qc7,Rc1,Qd8,Nb5,Ne8,e4,Nb6,Ba5,Nc7,Bxb6,axb6,Nxc7,Bxc7,exd5,exd5,Qc2,Rxa2', 'Qxc7,Qxc7,Rxc7', 'https://lichess.org/training/wzTIe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wzuWl', 'Rapid', 'mosayeb11', 1772, 'Epsilonkleiner0', 1896, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,d5,Bf6,Re1,Ne7,Rxe4,d6,Qe2,O-O,Bg5,Bxg5,Nxg5,Ng6,Qh5,h6,Nxf7,Qf6,Nxh6+,gxh6,Qxh6,Bf5,Re3,Rae8,Rf3,Qg7,Qg5,Re5,Rg3,Rfe8,h4,Qe7,Qh6,Re1+,Rxe1,Qxe1+,Bf1,Re7,h5,Rh7,Rxg6+,Bxg6,Qxg6+,Rg7,Qf6,Qe7,Qe6+,Kh8,h6,Rh7', 'Qc8+,Qf8,Qxf8#', 'https://lichess.org/training/wzuWl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wzuZR', 'Rapid', 'VD31282', 1995, 'Nicolas628', 2080, 'd4,Nf6,c4,e6,Nf3,b6,g3,Bb7,Bg2,Be7,Nbd2,O-O,O-O,Na6,b3,c5,Bb2,cxd4,Nxd4,Bxg2,Kxg2,d5,Rc1,Rc8,e3,Nb4,a3,Nd3,Rc2,Nxb2,Rxb2,Bxa3,Ra2,Bb4,Rxa7,Bxd2,Qxd2,dxc4,bxc4,Rxc4,Rb1,h5,Qb2,Qd5+,f3,Rfc8,Qxb6,e5,Ra5,Rc2+,Nxc2,Rxc2+,Kh3,Qxf3,Qb4,Qg4+,Qxg4,hxg4+,Kh4', 'Rxh2+,Kg5,Rh5#', 'https://lichess.org/training/wzuZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZvd0', 'Rapid', 'Krik_besnog_pileta', 1846, 'cabbada', 1857, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ng5,h6,Nxf7,Kxf7,Qxg4,Nf6,Bc4+,d5,Bxd5+,Nxd5,Qh5+,Kg7,exd5,Bd6,b3,Re8+,Kd1,Kh7,Qf7+,Kh8,Bb2+,Be5,Bxe5+,Rxe5,Qxf4,Rxd5,Qxh6+,Kg8,Qg6+,Kh8,Re1,Bd7,Qh6+,Kg8,Re4,Nc6,Nc3,Rd6,Qf4,Rg6,Kc1,Rxg2,Nd5,Rg4', 'Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/WZvd0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WzX9F', 'Bullet', 'peppefabi', 1693, 'mpauli', 1755, 'd4,Nf6,Bf4,d6,e3,Nc6,Nf3,Bg4,Bd3,e5,d5,Ne7,Bg5,Nexd5,e4,Ne7,h3,Bh5,Bxf6,gxf6,Nbd2,Rg8,g4,Bg6,Nh4,h5,Nxg6,fxg6,gxh5,gxh5,Qxh5+,Kd7,O-O-O,c6,Bc4,Rg5,Qh7,Qa5,Qf7,Kc7,Bb3,Bg7,Rhg1,Rxg1,Qxe7+,Kb6,Nc4+,Kb5,Nxa5', 'Bh6+,f4,Bxf4+,Kb1,Rxd1#', 'https://lichess.org/training/WzX9F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZXhi', 'Blitz', 'rahim2017', 1640, 'JoinX', 1538, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,Bd6,Bg3,Bxg3,hxg3,Nc6,Nbd2,Bd7,c3,Qe7,Bd3,h6,Ne5,O-O-O,f4,Nxe5,fxe5,Ng4,Qe2,Qg5,O-O-O,Qxe3,Qxg4,Qxd3,Qxg7,Qa6,Kb1,Bb5,Nb3,Bd3+,Ka1,Bc4,Nc1,Rdf8,Rxh6,Rhg8,Qf6,Rxg3,Rh8,Rgg8,Rxg8,Rxg8,Qxf7,Rd8,Rh1,b6,Qxe6+,Kb7,Qe7,Rg8,e6,Rxg2,Rh7', 'Qxa2+,Nxa2,Rg1+,Nc1,Rxc1#', 'https://lichess.org/training/WZXhi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZxvj', 'Blitz', 'IM dragosdum', 2179, 'masterbrein', 2070, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Bd3,Bb7,Nf3,O-O,O-O,d5,a3,dxc4,Bxc4,Bd6,b4,a5,b5,Nbd7,a4,e5,Ba3,e4,Bxd6,cxd6,Nd2,d5,Bb3,Re8,Rc1,Nf8,f3,Qd6,fxe4,dxe4,Qe1,Ng6,Qg3,Qxg3,hxg3,Ne7,Ne2,Rac8,Nf4,Ned5,Nxd5,Nxd5,Rxc8,Rxc8,Nxe4,Nxe3,Rxf7,Bxe4', 'Rc7+,Kf8,Rxc8+', 'https://lichess.org/training/WZxvj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WzYM3', 'Blitz', 'scaco', 2145, 'Hakan59', 2144, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Qe7,b4,Bb6,O-O,d6,d4,h6,d5,Nb8,a4,a5,Nbd2,Nf6,Qc2,O-O,Nb3,Bg4,Be2,Na6,b5,Nc5,Nxc5,Bxc5,h3,Bxf3,Bxf3,Nh7,Qe2,b6,Be3,Ng5,Bxc5,Nxf3+,Qxf3,bxc5,Qg3,f5,f3,Rf6,c4,Kh7,Rab1,Qd8,Qe1,f4,Kh1,Rg6,Rg1,Rg3,Rb2,Qh4,Qf1,Rb8,Kh2,h5,Qe1,Qd8,Qc3,Rg6,Qe1,Kh6,g4,fxg3+,Rxg3,Rxg3,Qxg3,g5,Rg2,Qf6,h4,gxh4,Qh3,Rd8,Kh1,Rf8,Qd7,Rf7,Qc8,Rg7', 'Qh8+,Rh7,Qxf6#', 'https://lichess.org/training/WzYM3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZYwL', 'Rapid', 'cafefrio', 1919, 'King211', 1857, 'c4,Nf6,g3,d5,c5,c6,d4,Nbd7,Bg2,e5,b4,exd4,Qxd4,a5,a3,axb4,axb4,Rxa1,Qxa1,Be7,Nf3,O-O,O-O,Ne4,Nbd2,Bf6,Qb1,Nc3,Qd3,Ne5', 'Qxc3,Nxf3+,Qxf3', 'https://lichess.org/training/wZYwL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('WZz7p', 'Rapid', 'AMIRhms', 1733, 'DrIvan', 1631, 'd4,e6,e3,d5,Nf3,Bd6,a3,h6,c4,c6,Bd3,Nf6,O-O,Qc7,Nc3,g5,cxd5,exd5,h3,g4,hxg4,Nxg4,e4,Bh2+,Kh1,h5,Ne5,Bxe5,dxe5,d4,Ne2,Qxe5,Ng3,h4,Qxg4,Bxg4,Re1,hxg3+,Kg1,gxf2+,Kxf2,Nd7,g3,O-O-O,Bf4,Qc5,Rec1,Rh2+,Kg1,Qh5', 'Rxc6+,bxc6,Ba6#', 'https://lichess.org/training/WZz7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('wZzlS', 'Rapid', 'politic', 1977, 'jego', 1802, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,h3,Bh5,g4,Bg6,Ne5,Nbd7,Nxg6,hxg6,Bg2,O-O-O,g5,Nh5,Qf3,c6,Bd2,Qb6,O-O-O,e6,Qxf7,Bb4,Qxe6,Bxc3,Bxc3,Nf4,Qg4,Rhf8,Rhe1,Kb8,Re7,Nxg2,Qxg2,Qa6,Qg3+,Ka8,Kb1,Nb6,Rxg7,Nd5,Bd2,Qe2,Qg4,Qxf2,Rxg6,Nb6,Bb4,Rf4,Qg1,Qf3,c3,Nd5,a3,Qe4+,Ka2,Qxg6,Bc5,Qg8,Ka1,Qg6,Qg3,Rf5,h4,b6,Bb4,Nxb4,axb4,Rdf8,Qg2,Kb7,Qg4,Rf4,Qd7+,Kb8,d5,Rf1,Qg4,Rxd1+,Qxd1,cxd5,Qxd5,Kc8', 'Qa8+,Kc7,Qxf8', 'https://lichess.org/training/wZzlS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x01ip', 'Blitz', 'fhrg', 2283, 'sergey050181', 2275, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,dxc4,a4,Bf5,Bg5,Ne4,Nxe4,Bxe4,Bf4,e6,Bxb8,Rxb8,Nd2,Bb4,e3,O-O,f3,Bd3,Kf2,c5,dxc5,Bxf1,Nxf1,Bxc5,Ng3,Qb6,Qe2,Rbd8,Ne4,Rd3,Nxc5,Qxc5,Rhc1,Rfd8,Rc2,Qb4,Kf1,Rd2,Qxc4', 'Rd1+,Rxd1,Rxd1+,Ke2,Qe1#', 'https://lichess.org/training/x01ip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x023N', 'Rapid', 'fanatic22779', 2050, 'Nobispacem', 2003, 'Nf3,c5,e4,g6,Bc4,Bg7,Bxf7+,Kxf7,Ng5+,Ke8,Qf3,Bf6,Nh3,d6,Nc3,Be6,d3,Nc6,Nf4,Qd7,O-O,Nd4,Qd1,Kd8,Be3,b6,Bxd4,Bxd4,Nfe2,Bg7,f4,Nf6,Ng3,Bg4,Qd2,Rf8,e5,dxe5,fxe5,Qd4+,Rf2,Nd5,Nb5,Qxe5,Rxf8+,Bxf8,Re1,Qxb2,Qg5,Qxb5', 'Qxd5+,Kc7,Qxa8', 'https://lichess.org/training/x023N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x02Y0', 'Rapid', 'kanini2500', 1632, 'Yuri1225', 1834, 'e4,e5,f4,exf4,Nf3,d5,exd5,c6,dxc6,Nxc6,d4,Nf6,Bc4,Be7,O-O,O-O,Bxf4,Bg4,c3,Rc8,h3,Bh5,Bd3,Nd5,Bd2,Bd6,Qc2,Bg6,Na3,Nf4,Bxf4,Bxf4,Bxg6,Be3+,Kh1,fxg6,Rae1,Bxd4,cxd4,Nxd4,Qd3,Nxf3,Qxd8,Rcxd8,Rxf3,Rxf3,gxf3,Rd2,Nc4,Rf2,Re3,Rc2,Nd6,h6,Re8+,Kh7,Nf7,g5,Ne5,Rxb2,f4,gxf4,h4,h5,Nf7,Rxa2,Re6,f3', 'Ng5+,Kh8,Re8#', 'https://lichess.org/training/x02Y0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X03be', 'Blitz', 'Killer_silver', 1858, 'bosy', 1853, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Be2,Nf6,h3,Bh5,g4,Bg6,Nh4,Bd6,Nxg6,fxg6,Bg5,O-O,Nc3,c6,Qd2,Qc7,a3,Nbd7,h4,Rae8,O-O-O,h6,Be3,Ne4,Nxe4,Rxe4,f3,Rxe3,g5,Bf4,Kb1,h5,Bd3,Rxf3,Qg2,Be3,Bxg6,Qg3,Qxg3,Rxg3,Bxh5,Rf4,Rd3,Kh7,Re1,Bf2,Re8,Rxd3', 'g6+,Kh6,Rh8#', 'https://lichess.org/training/X03be');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0644', 'Rapid', 'Sorokin2', 1658, 'HERCAM', 1673, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Qxd4,Nc6,Qd5,Be6,Qd3,Bxc4,Qxc4,Qd7,O-O,Nf6,Nc3,O-O-O,Be3,Ng4,Rfe1,Nxe3,Rxe3,g5,Nd5,Bg7,c3,Rhe8,Re2,g4,Nd2,h5,f3,gxf3,gxf3,Be5,h4,Rg8+,Kf2,Bg3+,Ke3,Bxh4,Rh1,Bg5+,f4,Be7,Rxh5', 'Rg3+,Nf3,Qg4', 'https://lichess.org/training/X0644');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x06Tw', 'Rapid', 'DIVENIL', 1624, 'ksmgkc', 1613, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,d5,exd5,cxd5,Bg5,Be7,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,Re1,Rfe8,Re2,Rad8,Qd2,Ne4,Nxe4,dxe4,Bxe7', 'Qxd2,Rxd2,Rxd2', 'https://lichess.org/training/x06Tw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X07SE', 'Rapid', 'BiHePe', 2044, 'Bolondro', 1668, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,e3,e6,Bd2,h6,Ne5,Bd6,f4,Bxe5,fxe5,Ne4,cxd5', 'Qh4+,g3,Nxg3', 'https://lichess.org/training/X07SE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0A3t', 'Rapid', 'pll2', 1802, 'proudpilot', 1800, 'c4,Nf6,a3,g6,b4,Bg7,Bb2,O-O,e3,d5,c5,c6,d4,Ne4,h3,f5,Nf3,Nd7,Bd3,f4,Nc3,fxe3,fxe3,Qc7,Bxe4,Qg3+,Kf1,dxe4,Nxe4,Qc7,Ng5,Nf6,Ke2,h6,Qb3+,Kh8,Ne6,Bxe6,Qxe6,Nd5,Qxg6,Rf6,Qe4,Qg3,Raf1', 'Qxg2+,Rf2,Qxh1', 'https://lichess.org/training/X0A3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x0am9', 'Classical', 'bhirghu', 1978, 'Ton29', 1903, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,h6,Be2,Bf5,O-O,e6,Re1,Be7,Ne5,Nf6,g4,Bh7,g5,hxg5,Bxg5,Nfd7,Nxf7,Kxf7,Bxe7,Qxe7,Bc4,Qg5+,Kh1,Bf5,Qf3,Nf6,Re5,Nbd7,Rxf5,Qh4,Qg2,Nb6,Bb3,Nd5,Nxd5,cxd5,Rf3,Qxd4,Rg1,Rh7,c3,Qe4,Rg3,Qxg2+,R3xg2,Rah8,Bc2,Ne4,f3', 'Ng3+,Rxg3,Rxh2#', 'https://lichess.org/training/x0am9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0eNF', 'Rapid', 'nisuunn', 1823, 'fieryhari', 1750, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,Bg5,e6,c5,h6,Bf4,b6,b4,bxc5,bxc5,Nbd7,e3,Be7,Be2,Qa5,Rc1,Ne4,Qb3,g5,Be5,O-O,O-O,g4,Nxe4,gxf3,Bxf3,dxe4,Bh5,Nxe5,dxe5,Qc7,Qc3,Rfd8,f4,exf3,Rxf3,Rd3,Rg3+,Kf8,Qe1,Qxe5,Rf3,Rad8,g4,Bh7,Rxf7+,Kg8,Rxe7,Rxe3,Qf2,Re2', 'Qf7+,Kh8,Qxh7#', 'https://lichess.org/training/X0eNF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x0gVE', 'Classical', 'Sebastianmda', 1719, 'King_d2', 1647, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Bb4,Qa4+,Nc6,Bxf6,Qxf6,cxd5,Bxc3+,bxc3,exd5,Nf3,Bd7,Qc2,O-O,e3,Bf5,Qd2,Be4,Be2,Nd8,O-O,Qg6,Qd1,Ne6,c4,Ng5,cxd5,Bxd5,Ne5', 'Nh3+,Kh1,Qxg2#', 'https://lichess.org/training/x0gVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0hL7', 'Blitz', 'julio88GM', 1991, 'PauloSergioPM', 1983, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,f3,O-O,Qd2,a6,O-O-O,b5,a3,Qa5,Nb3,Qc7,Bh6,Be6,Bxg7,Kxg7,Nd4,Nc6,Nxe6+,fxe6,h4,b4,axb4,Nxb4,h5,Qa5,hxg6', 'Qa1+,Nb1,Na2#', 'https://lichess.org/training/X0hL7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0hz0', 'Rapid', 'alpha_007', 1998, 'vitalai77', 1966, 'e4,c5,Nf3,a6,d4,cxd4,c3,d3,Bxd3,Nc6,O-O,e6,c4,Qc7,Nc3,Nf6,e5,Ng4,Bf4,g5,Nxg5,Ngxe5,Nf3,Bd6,c5', 'Nxf3+,Qxf3,Bxf4', 'https://lichess.org/training/X0hz0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x0kAo', 'Rapid', 'LordFarsomin', 1709, 'vahid6996', 1706, 'e4,e5,d4,d5,c4,dxe4,d5,c6,Nc3,Nf6,Bg5,Bb4,Bxf6,Qxf6,d6,Bxc3+,bxc3,O-O,c5,Rd8,Qb3,Nd7,Qa3,b6,cxb6,Nxb6,O-O-O,Bg4,Rd2,Rd7,f3,exf3,Rf2,Qxd6,Qxd6,Rxd6,Nxf3,Na4,Nxe5,Be6,Nc4,Bxc4,Bxc4,Nxc3,Rxf7,Kh8,Rhf1,h6,Kc2,Ne4', 'Rf8+,Rxf8,Rxf8+,Kh7,Bd3', 'https://lichess.org/training/x0kAo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x0LZn', 'Classical', 'MWANDILA', 1628, 'davidson094', 1619, 'Nc3,e5,e3,d5,Bd3,e4,Be2,c6,f3,f5,fxe4,fxe4,Bg4', 'Qh4+,g3,Qxg4,Qxg4,Bxg4', 'https://lichess.org/training/x0LZn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0OWO', 'Blitz', 'FM zvjaginsevfan', 2607, 'GM runittwice', 2624, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,O-O,d6,c3,O-O,d4,Bb6,Re1,exd4,h3,Re8,cxd4,Rxe4,Nc3,Rxe1+,Qxe1,Nxd4,Nxd4,Bxd4,Bg5,h6,Bh4,c6,Bd3,Be6,Rd1,Be5,Ne4,Bxa2,Bxf6,Bxf6,Nxd6,Bb3,Qe4,Bxd1,Qh7+,Kf8,Nf5,g6,Bc4,Qd7,Nxh6,Bg7,Qg8+,Ke7,Qxg7,Kd6,Nxf7+,Kc7,Qe5+,Kb6,b4,Re8', 'Qa5#', 'https://lichess.org/training/X0OWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x0pLj', 'Rapid', 'sahat30', 1827, 'Veaceslav_P', 1785, 'e4,d6,d4,g6,Nf3,Bg7,c4,Nd7,Nc3,e5,d5,Ngf6,Bd3,Nc5,Bc2,Bg4,h3,Bxf3,Qxf3,O-O,O-O,Qd7,Be3,b6,b4,Na6,a3,c5,dxc6,Qxc6,Bb3,Nc7,Rad1,Ne6,Rfe1,Nd4,Bxd4,exd4,Rxd4,Nd7,Rd5,Ne5,Qg3,Nxc4,Nb5,Be5,Qd3,a6,Nd4,Bxd4,Qxd4,Nxa3,Rxd6,Nb5,Qxb6', 'Qxd6,Qxd6,Nxd6', 'https://lichess.org/training/x0pLj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x0Q2l', 'Blitz', 'FM alitaptap0220', 2563, 'i_good-player', 2492, 'e4,c5,Nf3,e6,g3,Nc6,Bg2,Nf6,Qe2,d5,e5,Nd7,c3,Be7,O-O,g5,h3,h5,d4,g4,hxg4,hxg4,Nh2,cxd4,Nxg4,b6,c4,Ba6,b3,Rc8,Bf4,dxc4,bxc4,Na5,Nd2,Nxc4,Rfc1,b5,Ne4,Nc5,Ngf6+,Kf8,Qg4,Nxe4', 'Bh6+,Rxh6,Qg8#', 'https://lichess.org/training/x0Q2l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0qq3', 'Rapid', 'irkorin', 1807, 'lawlit', 1829, 'd3,Nf6,e4,e5,f4,d6,f5,Be7,g4,O-O,h3,d5,Bg2,dxe4,dxe4,Qxd1+,Kxd1,Rd8+,Ke2,Nc6,c3,b6,Be3,Bb7,Nd2,Ba6+,Kf3,Bc5,Rd1,Rd3,Re1,Bxe3,Rxe3,Rxd2,b4,Rxa2,h4,Rd8,Nh3,Rdd2,Bf1,Bxf1,Rxf1,g6,g5,Nh5,f6,Nf4,Nxf4,exf4,Kxf4,Rf2+,Rxf2,Rxf2+,Kg3,Rf1,Rd3,Rc1', 'b5,h6,bxc6', 'https://lichess.org/training/X0qq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0qwl', 'Rapid', 'Feditheking', 1953, 'joaovitorjg', 1940, 'e3,e5,Nf3,Nc6,d4,e4,Nfd2,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qd8,Ndxe4,Be7,Bb5,O-O,Bxc6,bxc6,Bd2,Rb8,Qc2,Ba6,Ng5,Qd7,Nce4,Nxe4,Nxe4,Qd5,h4,f5,Ng3,Qxg2,Ba5,Bd6,O-O-O,Bxg3,fxg3,Qxc2+,Kxc2,Rb7,b3,Be2,Rd2,Bf3,Rc1,Be4+,Kd1,Kf7,Rf2,Ke6,Rf4,Kd5,g4,g6,gxf5,Rxf5', 'Rc5+,Kd6,Rxe4', 'https://lichess.org/training/X0qwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x0R0p', 'Rapid', 'Sami_05', 1682, 'onehandedbackhandlad', 1634, 'b3,f6,Bb2,e5,Nc3,d5,e3,Be6,Qf3,Nc6,Bb5,Ne7,Nge2,a6,Bxc6+,Nxc6,O-O,Qd7,Qh5+,Bf7,Qh4,Be7,a4,f5,Qg3,O-O,b4,Nxb4,Qxe5,Nxc2', 'Nxd5,Bf6,Nxf6+', 'https://lichess.org/training/x0R0p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x0RnQ', 'Rapid', 'Davira', 1801, 'Mikkelino', 1808, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d3,c6,h3,Bf5,Nf3,h6,O-O,Be7,Nh4,Bh7,c3,O-O,d4,Bd6,f4,Nbd7,Nf3,Qc7,Ne5,Ne4,Nd2,Nxd2,Bxd2,f6,Nxd7,Qxd7,Qf3,Rae8,Rae1,Be4', 'Rxe4,Rxe4,Qxe4', 'https://lichess.org/training/x0RnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0rvV', 'Blitz', 'Jonaaaaaa', 1923, 'RobertRoki', 1931, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be2,h5,h3,Qd6,Bg5,Qd4,Be3,Qxb2,Nd2,Bxe3,fxe3,Qe5,Nf3,Qg3+,Kf1,Bg4,hxg4', 'Nxg4,Qe1,Nxe3+,Kg1,Qxg2#', 'https://lichess.org/training/X0rvV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x0uW8', 'Blitz', 'ReichOelSchaich', 1741, 'NKE65', 1725, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,O-O,h5,c3,Qe7,d4,exd4,cxd4,O-O-O,Qa4,Qxe4,Nc3,Qe8,Re1,Qd7,Bb5,a6,d5,axb5,Qa8+,Nb8,Nd4,c6,a4,Nf6,axb5,c5,Nc6,bxc6,bxc6,Qc7,Nb5,Qb6,c7,c4+,Kh1,Qxb5,cxb8=Q+,Qxb8', 'Qc6+,Qc7,Ra8#', 'https://lichess.org/training/x0uW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0VkB', 'Rapid', 'Marco753', 2122, 'capitantrueno', 1771, 'e4,e5,f4,exf4,Bc4,d6,Nf3,Nc6,d4,Be7,Bxf4,a6,Nc3,Nf6,O-O,Bg4,Qd2,O-O,Rae1,b5,Bb3,Na5,e5,dxe5,Bxe5,Bb4,Qg5,Bxc3,bxc3,Nxb3,axb3,Bxf3,Rxf3,h6,Qg3,Nh5,Qg4,Qg5,Qe4,Rae8,Rf5,Qg6,Kh1,f6,g4,fxe5', 'Rxf8+,Rxf8,Qxg6', 'https://lichess.org/training/X0VkB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0wcE', 'Blitz', 'kszez', 1839, 'NchiemChess', 1874, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,c6,Bf4,b6,e3,d5,cxd5,exd5,Bd3,Bb4,Qc2,O-O,Be5,Ne4,O-O-O,Nxc3,bxc3,Ba3+,Kb1,b5,g4,fxg4,Bxg7,Kxg7,Ne5,b4,Rhg1,bxc3,Nxg4,Qb6+,Qb3,Qxb3+,axb3,Bxg4,Rxg4+,Kf6,Rdg1,Ke7,Bxh7,Rxf2,Rg7+,Kd6', 'R1g6+,Rf6,Rxf6#', 'https://lichess.org/training/X0wcE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0xYG', 'Rapid', 'Platawin', 1643, 'Igor_1937', 1650, 'Nf3,c5,d3,Nc6,Nbd2,e5,g3,Nf6,Bg2,Be7,O-O,d6,Re1,O-O,e4,h6,Nh4,Be6,Ndf3,Bg4,Nf5,Bxf5,exf5,Qd7,Nh4,Nh7,Bxh6,Bxh4,Bxg7,Kxg7,Qg4+,Kh8,Qxh4,Qxf5', 'Be4,Qg6,Bxg6', 'https://lichess.org/training/X0xYG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X0zHZ', 'Rapid', 'Paliwur', 2072, 'woojtas', 2160, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,dxe5,Nf5,Qxd8+,Kxd8,Bg5+,Ke8,Nc3,h6,Bd2,Be6,Rad1,Be7,Bc1,Rd8,Rxd8+,Kxd8,Rd1+,Kc8,Nd4,Nxd4,Rxd4,Rd8,Rxd8+,Kxd8,Be3,Bf5,f4,Bxc2,Kf2,b6,Kf3,Kd7,g4,g6,Ne4,Ke6,Bd2,Kd5,Nf6+,Ke6,Bc3,a5,h4,a4,a3,c5,Ng8,Bf8,h5,gxh5,gxh5,Bd1+,Ke4,Bxh5', 'f5+,Kd7,Nf6+,Kc6,Nxh5', 'https://lichess.org/training/X0zHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X10yK', 'Rapid', 'SovjetKoenski', 1706, 'JanVanSpeyk', 1668, 'e4,c5,Nf3,e6,g3,Nf6,e5,Nd5,c4,Nb6,b3,d5,d4,Nc6,Bb2,cxd4,Nxd4,Bb4+,Nd2,Qg5,Nxc6,bxc6,f4,Qf5,Qe2,Ba6,Qd3,Qg6,Qxg6,hxg6,a3,Bxd2+,Kxd2,dxc4,b4,Rd8+,Kc3,Na4+,Kc2,Bb5,Bc1,Ke7,Be3,c3,Bg2,Rd3,Bxc6,Rxe3,Bxb5,Nb6,Rad1,Nd5,Rd3,Re2+,Kc1,Rd8', 'Rxd5,exd5,Bxe2', 'https://lichess.org/training/X10yK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x15nf', 'Rapid', 'wwsilva', 1748, 'Salgirr', 1672, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,d3,e6,Re1,Be7,Nbd2,O-O,Nf1,h6,b3,b5,Bb2,Qc7,Ng3,Qf4,Ne5,Bd6,Bc1,Qd4,Be3,Qc3,Bd2,Qc7,d4,Rfc8,c3,Qb6,a3,a5,Nh5,Ra7,Nxd7,Nxd7,Qg4,g5,Bxg5,hxg5,Qxg5+,Kf8,Qg7+,Ke7,Qg5+,f6,Qg7+,Kd8,Rxe6', 'Bxh2+,Kxh2,Qxe6', 'https://lichess.org/training/x15nf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X16Eg', 'Bullet', 'trouURble', 1992, 'alevalemar', 2008, 'e4,c6,Bc4,d5,Bb3,dxe4,Qh5,g6,Qh4,Nf6,f3,exf3,Nxf3,Bg7,d4,O-O,O-O,c5,Nc3,cxd4,Nxd4,Qb6,Be3,Ng4,Nd5,Qc5,Nxe7+,Kh8,Nxg6+,fxg6,Rxf8+,Bxf8,Nf5,Nxe3', 'Qf6+,Bg7,Qxg7#', 'https://lichess.org/training/X16Eg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X18pt', 'Rapid', 'akshaymodak7', 1812, 'JimGon', 1806, 'Nf3,Nf6,d4,d5,g3,c6,Bg2,Bf5,O-O,h6,Bf4,e6,a3,Bd6,Be5,Bxe5,Nxe5,Nbd7,e3,O-O,Nd2,Ne4,c4,f6,Nxd7,Qxd7,c5,b6,Nb3,bxc5,Bxe4,Bxe4,Nxc5,Qd6,Qg4,Bf5,Qf3,Bh7,Rac1,e5,Qg4,f5,Qe2,exd4,exd4,Rfe8,Qa6,f4,Nb7,Qf6,Qxc6,Qxd4,Nd6,Rf8,b4,fxg3,hxg3,Bd3,Rcd1,Rad8,Nb5,Bxb5', 'Qe6+,Kh8,Rxd4', 'https://lichess.org/training/X18pt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X19Gq', 'Blitz', 'NM janisdaudz', 2173, 'zigbert67', 2264, 'f4,c5,Nf3,g6,g3,Bg7,Bg2,Nc6,O-O,d5,d3,Nf6,Nc3,O-O,e4,dxe4,dxe4,Qxd1,Rxd1,Bg4,e5,Bxf3,Bxf3,Ne8,Bxc6,bxc6,Rd7,e6,Ne4,c4,Be3,f6,exf6,Nxf6,Nxf6+,Bxf6,Bd4,Rf7,Rxf7', 'Bxd4+,Kg2,Kxf7', 'https://lichess.org/training/X19Gq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1AEI', 'Blitz', 'IM mon-arch_16', 2287, 'Alihanibragim', 1684, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,c6,g3,Bg4,Bg2,e6,d4,Qc7,O-O,Bd6,Ne4,Be7,Bf4,Qd8,h3,Bxf3,Bxf3,Nd7,Nd6+,Bxd6,Bxd6,Ngf6,c4,Nb6,c5,Nbd5,Qb3,Qd7,Rfe1,O-O-O,a4,g5,a5,a6,Ra4,h5,Rb4,g4,Bg2,Nxb4,Qxb4,Nd5,Bxd5,exd5', 'Re7,Qxe7,Bxe7', 'https://lichess.org/training/x1AEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X1AWI', 'Rapid', 'DzikieSzachy', 1760, 'y_alrooby', 1724, 'c4,e6,d4,d5,e3,Nf6,f3,dxc4,Bxc4,c6,a4,Bd6,Qc2,O-O,e4,Be7,Be3,Re8,Ne2,Nfd7,Bd3,Nf8,Kf2,Bg5,f4,Bh4+,g3,Bf6,e5,Be7,h4,f6,g4,fxe5,dxe5,Bxh4+,Ng3,Bxg3+,Kxg3,g6,Nd2,Na6,Bc5,Nxc5,Bxg6,Nxg6,Rh6,Qd3+,Qxd3,Nxd3,Rah1,Re7,Ne4,Ngxf4,Nf6+,Kf8,Nxh7+,Ke8,Nf6+,Kd8,Rh8+,Kc7,Ne8+,Kb6,Nd6,Rc7,b4,a5,b5,c5', 'Nc4+,Ka7,b6+,Ka6,bxc7', 'https://lichess.org/training/X1AWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1cKQ', 'Rapid', 'oxig8', 1916, 'lalbihari', 2061, 'Nf3,Nf6,c4,c5,g3,g6,Bg2,Bg7,O-O,d6,d4,cxd4,Nxd4,O-O,Nc3,a6,e4,Nbd7,b3,Nc5,Bb2,Bg4,Bf3,Bxf3,Qxf3,Nfd7,Rad1,Ne5,Qe3,Ng4,Qf3,h5,h3,Ne5,Qe3,Ne6,Nd5,Nxd4,Bxd4,e6,Nc3,Nc6,Bxg7,Kxg7,c5,Qf6,cxd6,Rfd8,f4,Rd7,e5,Qf5,Kh2,Rc8,Na4,Nb4,Nb6,Rc2+,Rd2,Rd8,d7,h4,g4,Rxd2+,Qxd2,Qd3,Qxd3,Nxd3,Rd1,Nxf4,Rc1,Nd5', 'Rc8,Rxd7,Nxd7', 'https://lichess.org/training/x1cKQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X1dqX', 'Rapid', 'jlsilveira', 1850, 'lijikumaran', 1709, 'Nf3,d5,g3,Nc6,Bg2,e5,d3,Bc5,O-O,h6,Nxe5,Bxf2+,Rxf2,Nxe5,e4,Nf6,exd5,O-O,c4,c6,Bf4,Ng6,dxc6,Nxf4,Rxf4,bxc6,b3,Qb6+,d4,Be6,Nc3,Rad8,Na4,Qc7,Nc5,Rd6,Nxe6,fxe6,Rf2,Rfd8,Rd2,c5,d5,exd5,Bxd5+,Nxd5,Rxd5,Qe7,Qf3,Rf8,Qd3,Rdf6,Qd2,Qf7,Qd3,Rf3,Qd1,Qe7,Qd2,Rf2,Qxf2', 'Rxf2,Kxf2,Qf6+', 'https://lichess.org/training/X1dqX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1EqN', 'Classical', 'Boro-i-Ramiz', 1926, 'Vyachus', 2150, 'd4,Nf6,e3,g6,Bd3,Bg7,Nf3,O-O,h4,h5,Ng5,c5,c3,Nc6,Nd2,cxd4,exd4,e5,d5,Nxd5,Nxf7,Rxf7,Bc4,Nf4,Bxf7+,Kxf7,Ne4,d5,Ng5+,Kg8,Bxf4,exf4,O-O,Bf5,Qa4,Qd6,Rfd1,Rd8,Qb5,b6,Rd2,Bf6,Rad1,Bxg5,hxg5,Ne7,c4,f3,g3,Be4,b4,Qe6,Kh2,h4,cxd5,Qg4,d6,Nf5,Qc4+,Kg7', 'Qc7+,Rd7,Qxd7+', 'https://lichess.org/training/x1EqN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X1Hap', 'Rapid', 'grif979v', 1875, 'fisher56', 1737, 'e4,d5,exd5,Qxd5,d4,Nf6,Nf3,Bg4,Be2,Nc6,c3,e6,O-O,Be7,a3,O-O,Be3,Rad8,Qc2,Ne4,c4,Qf5,Nh4,Bxh4,f3,Qg6,fxg4,Nxd4,Bxd4,Rxd4,Bf3,Nd6,Qc3,Rxc4,Qb3,Qc2,Qxc2,Rxc2,b4,f5,gxf5,exf5,g3,Bg5,a4,c6,Na3,Rd2,Rad1,Rxd1,Rxd1,Nf7,Nc4,b5,axb5,cxb5,Nd6,Nxd6,Rxd6,f4,g4,Rc8,Rd5,Rc1+,Kg2,Rc2+,Kh3,Be7,Rxb5,Rb2', 'Bd5+,Kf8,Rb8+,Bd8,Rxd8+', 'https://lichess.org/training/X1Hap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1HXj', 'Rapid', 'EbiGusey', 1985, 'martinezperia', 1925, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,h6,Bh4,O-O,Nf3,Nbd7,Bd3,c5,cxd5,Nxd5,Bxe7,Qxe7,Nxd5,exd5,dxc5,Nxc5,Be2,Ne4,a3,Be6,O-O,Rad8,Rc1,a6,Qd4,Qf6,Qxf6,Nxf6,Nd4,Rd7,Bd3,Ne4,Rfd1,Rfd8,Bb1,b5,Rc6,Rd6,Rxd6,Nxd6,Nc6,Re8,b3,Ne4,Rd3,Kf8,Nd4,Rc8,Rd1,Nc3,Rc1,Nxb1', 'Nxe6+,Ke7,Rxc8', 'https://lichess.org/training/x1HXj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X1KKV', 'Rapid', 'attagol', 1845, 'Nh9Nh1', 1788, 'e4,e5,Bc4,Nc6,a3,Bc5,Nc3,a6,d3,d6,Nge2,Bg4,O-O,Nd4,Be3,Ne7,f3,Bh5,Ng3,Bg6,Nce2,Nec6,c3,Nxe2+,Qxe2,Bxe3+,Qxe3,O-O,Bd5,Kh8,f4,f5,exf5,Bxf5,fxe5,Ne7,Bb3,dxe5,Qxe5,Ng6,Qe3,Qxd3', 'Nxf5,Qxe3+,Nxe3', 'https://lichess.org/training/X1KKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1LX5', 'Rapid', 'Dema4619', 1732, 'U53r', 1670, 'd4,f5,Bf4,Nf6,Nf3,e6,e3,b6,h3,Bb7,c4,Be7,Nc3,a6,Bd3,Ne4,Bxe4,fxe4,Ne5,d6', 'Qh5+,g6,Nxg6', 'https://lichess.org/training/x1LX5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1MYX', 'Rapid', 'pedrio', 1844, 'usyu001', 1892, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,Re1,Bd7,d4,exd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,Be7,e5,dxe5,Qxe5,O-O-O,Qa5,Kb8,Be3,b6,Qa6,Qc6,a4,Bc5,Bxc5,Qxc5,Nc3,c6,h3,Rd7,Ne4,Nxe4,Rxe4,Qxc2,Rc4,Qxb2,Rac1,Rc8,Rxc6,Rxc6,Rxc6,Rd1+,Kh2,Qe5+,g3,Rd8,Qc4,Qd5', 'Rc8+,Rxc8,Qxd5', 'https://lichess.org/training/x1MYX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X1NpT', 'Rapid', 'kmwmi', 1741, 'Edelweiss17osn', 1697, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,h6,c3,O-O,Bb3,a6,Nbd2,d6,h3,Be6,Bc2,d5,exd5,Bxd5,Ne4,Ba7,Nxf6+,Qxf6,Be3,Bxf3,gxf3,Rad8,Kh2,g5,Rg1,Kh8,Qe2,Rg8,Rg3,h5,Rag1,Bxe3,Qxe3,Qf4,Qxf4,gxf4,Rxg8+,Rxg8,Bb3,Rxg1,Kxg1,Kg7,Bd5,Nd8,b4,h4,Kf1,c6,Be4,Ne6,Bf5,Ng5,Bg4,Kg6,Ke2', 'f5,Bxf5+,Kxf5', 'https://lichess.org/training/X1NpT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1PSe', 'Rapid', 'Kastighos', 2049, 'HunterKing', 2192, 'e4,e6,d4,d5,Nd2,Nf6,Bd3,c5,c3,Nc6,Ngf3,Qb6,exd5,Nxd5,Nc4,Qc7,dxc5,Bxc5,O-O,O-O,Qc2,h6,b4,Bd6,Nxd6,Qxd6,Bb2,Bd7,a3,Rac8,Rad1,Qe7,c4,Nf4,Qc3,f6,Bc1,Nxd3,Qxd3,Rfd8,Qg6,Be8,Qg3,Kh7,Bb2,e5,Nh4,Qe6,c5,Bh5,Rd3,Be2,Qg6+,Kh8,Nf5,Qxf5', 'Rxd8+,Rxd8,Qxf5', 'https://lichess.org/training/x1PSe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1qiD', 'Rapid', 'Mn1355777', 1823, 'Kpwu76', 1854, 'e4,e5,d4,exd4,Nf3,c5,Bc4,f6,O-O,Bd6,c3,Nc6,Qb3,Na5,Bf7+,Kf8,Qd5,Ne7,Qh5,g6,Bxg6,Nxg6,Bh6+,Kf7,Nh4,Qe7,Nf5,Qe5,Nd2,Ke8,Nf3,Qe6,Ng7+,Ke7,Nxe6,dxe6,e5,Bxe5,Nxe5,Nxe5,cxd4,cxd4,Rac1,Bd7,Rfd1,Nac6,Bf4,Kd6,Bxe5+,fxe5,Qe2,Raf8,a3,Kc7,b4,Kb8,b5,Ne7,Qxe5+,Ka8,Qc7,Rd8,a4,Nd5,Qe5,b6,Rxd4,Rhf8,h3,Rf5,Qe1,Rdf8,f3,R8f7,Rb1,Rg7,Qf2,Nf4,Rd2', 'Nxh3+,Kf1,Nxf2', 'https://lichess.org/training/x1qiD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1Qk5', 'Blitz', 'alphalsao', 2010, 'Anonim_24', 2023, 'e4,e5,Nc3,Bb4,f4,d6,Nf3,Bg4,fxe5,dxe5,h3,Bh5,g4,Bg6,d3,Nc6,Bd2,Nge7,Qe2,Qd6,O-O-O,O-O-O,Kb1,f6,Nb5,Qc5,Bxb4,Qxb4,Nc3,h6,a3,Qb6,Bg2,a6,Nd2,Bf7,Nd5,Nxd5,exd5,Nd4,Qe1,Bxd5,Bxd5,Rxd5,Nc4,Qc6,Rh2,Rb5,Qe4,Qc5,Qg6,Qe7,h4,Rd8,g5,hxg5,hxg5,Kb8,gxf6,Qxf6,Rg2,Rd7,Qg3,Nc6,Rf2,Qe7,Rdf1,Na5,Qe3,Nxc4,dxc4,Rb6,a4,Qb4,c3,Qxc4', 'Rf8+,Ka7,a5,c5,axb6+', 'https://lichess.org/training/x1Qk5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1qxK', 'Rapid', 'KafulaFK', 1984, 'Donusuiunbek0', 2009, 'e4,d6,d4,g6,Nf3,Bg4,h3,Bxf3,Qxf3,Nd7,Bb5,c6,Bd3,Ngf6,O-O,Bg7,Be3,e5,c3,O-O,Bg5,h6,Bxf6,Bxf6,Nd2,exd4,c4,Ne5,Qe2,Bg5,f4,Nxd3,Qxd3,Bf6,Nf3,c5,e5,dxe5,Nxe5,Qd6,Rae1,Rfe8,Ng4,Bg7,Rxe8+,Rxe8,f5,h5,fxg6,fxg6', 'Nf6+,Bxf6,Qxg6+,Kf8,Rxf6+,Qxf6,Qxf6+', 'https://lichess.org/training/x1qxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X1Rje', 'Rapid', 'TbirdV', 1620, 'Maldoror17', 1606, 'd4,e6,c4,d6,e3,b6,Nf3,h6,Nc3,a6,Qb3,Bb7,Be2,g6,O-O,Bg7,e4,Ne7,e5,d5,cxd5,Nxd5,Nxd5,Bxd5,Qa3,Bf8,Qa4+,Bc6,Qc2,Bd5,Bd3,Bxf3,gxf3,h5,Bxg6,Rg8,Kh1,Rxg6,Bf4,Qh4,Qe4,Qh3,Rg1,Rxg1+,Rxg1,Ra7,d5,Qh4,Qa4+,b5,Qd4,Rb7,dxe6,fxe6,Qd2,c6', 'Bg5,Rd7,Qxd7+,Nxd7,Bxh4', 'https://lichess.org/training/X1Rje');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1TQU', 'Classical', 'Shaman22', 2132, 'G13enflash', 2098, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,c3,Be7', 'Qa4+,Nd7,Qxe4', 'https://lichess.org/training/x1TQU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X1v4P', 'Rapid', 'yazan95', 1926, 'sliman07', 1997, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,Qg6,f3,O-O,O-O,Qh5,Kh1,d6,Nxc6,Nxc6,Bxc5,Qxc5,Nd2,Ne5,Be2,Be6,Nb3,Bxb3,Qxb3,b6,Rad1,a5,f4,a4,Qd5,Qe3,fxe5,Qxe2,exd6,cxd6,Qd2,Qxe4,Qxd6,b5,Qd5,Qg4,Rd4,Qe2,Rdf4,Rad8,Rxf7', 'Qxf1+,Rxf1+,Rxd5', 'https://lichess.org/training/X1v4P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1VJX', 'Rapid', 'chesschad', 1853, 'Wolf7077', 1897, 'd4,e5,c3,exd4,cxd4,Nf6,Nc3,d5,Bf4,Bb4,e3,O-O,Qb3,a5,a3,Bxc3+,Qxc3,Ne4,Qxc7,Qxc7,Bxc7,Nc6,Bd3,b5,f3,Nf6,Ne2,b4,a4,b3,O-O,Nb4,Bb5,Ra7,Be5,Nd7,Bd6,Re8,Bxb4,axb4,Nf4,Ba6,Bxd7,Rxd7,Rfe1,Rc8,Rac1,Bc4,Kf2,Ra8,Ra1,Rda7,Rec1,Rxa4', 'Rxa4,Rxa4,Nxd5', 'https://lichess.org/training/x1VJX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X1yZe', 'Rapid', 'sina818', 2178, 'robertitof7', 2051, 'd4,Nf6,c3,e6,e3,d5,f4,c6,Nf3,Bd6,Bd3,b5,O-O,Bb7,Nbd2,Qd7,Ne5,Bxe5,fxe5,Ne4,Nxe4,dxe4,Bxe4,O-O,Bd2,c5,Bxb7,Qxb7,Qg4,Nd7,Rf3,Rad8,Raf1,Nxe5,dxe5,Rxd2,Rg3,g6,e4,Rxb2,Rh3,Rxa2,Qg5,Qxe4,Kh1,Qb7,Rg1,Qc7,Qh6,f6,exf6,Rxf6,Qg5,Rff2,Rg3,a5,Qg4,Qf7,Qe4,a4,h4,a3,h5,Rf6,Rd3,Rb2,Qa8+,Kg7,Qxa3,Rbf2,Qxc5,R2f5,h6+,Kxh6,Rh3+,Kg7,Qe3,Rh5,Rxh5,gxh5,Qg5+,Kh8,Qxb5,Rf4,Qe5+,Kg8,Qg5+,Kf8,g3,Qb7+,Kh2,Rf2+,Kh3,Qd7', 'Qc5+,Ke8,Qxf2', 'https://lichess.org/training/X1yZe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x1Z6m', 'Rapid', 'Beutlinbeu', 1879, 'co665', 1862, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Bd2,Qxb2,Nc3,Qa3,Nb5,Qc5,Nxc7+,Kd8,Nxa8,Nxe5,Ng5,f6,Nf3,Ng4,e3,b6,Nd4,h5,Rb1,Bb7,Bb4,Qxb4+,Rxb4,Bxb4+,Ke2,Ba6+,Kf3,Ne5+,Kf4', 'g5+,Kg3,h4+,Kh3,g4+,Qxg4,Nxg4', 'https://lichess.org/training/x1Z6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x24gb', 'Bullet', 'NM whatsmyageagain', 2570, 'GM dhoine98', 2741, 'd4,c5,c4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nf3,e6,e3,d5,cxd5,exd5,Be2,Bd6,O-O,O-O,Nc3,Be6,b3,a6,Bb2,Rc8,Nd4,Qe7,Bf3,Rfd8,Nce2,Ne5,Nxe6,fxe6,Nd4,Nxf3+,Qxf3,Ne4,Rfd1,Rf8,Qg4,Nxf2,Qxe6+,Qxe6,Nxe6,Nxd1,Rxd1,Rfe8,Nxg7,Rxe3,Nf5,Re6,h3,Bf8,Rd2,h5,Kf2,b5,g4,hxg4,hxg4,Rce8,Kf3,Re1,Rh2,Rf1+,Kg3,Rxf5,gxf5', 'Bd6+,Kf3,Bxh2', 'https://lichess.org/training/x24gb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x25Ce', 'Classical', 'Midnight_Blunderer', 1895, 'kamranqiana', 1985, 'e4,e5,Nf3,Bc5,Nxe5,Nc6,Nf3,d6,d4,Bb6,c3,Nf6,Bd3,Bg4,h3,Bh5,g4,Bg6,Bg5,Qd7,Bxf6,gxf6,Nh4,O-O-O,Nf5,Bxf5,gxf5,Rhg8,Nd2,Rde8,Qc2,Qxf5,O-O-O,Qf4,Kb1,Rg2,Nc4,Rxf2,Nxb6+,axb6,Qc1,Qxc1+,Kxc1,Rg8,Rdf1,Rgg2,Rxf2,Rxf2,Rf1,Rxf1+,Bxf1,Kd7,Bb5,Ke6', 'd5+,Ke5,dxc6', 'https://lichess.org/training/x25Ce');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x2Chg', 'Rapid', 'Sunstreet', 1827, 'piur', 1878, 'e4,e5,Nf3,d6,Bc4,Be7,c3,Nf6,O-O,c6,Re1,Nbd7,d4,Qc7,b4,b5,Bb3,h6,a4,bxa4,Bxa4,Nf8,d5,Bd7,c4,Ng6,Nc3,O-O,dxc6,Bxc6,Bxc6,Qxc6,Nd5,Nxd5,cxd5,Qd7,Be3,a6,Qd3,Qb7,Ra4,Rfb8,Bd2,Bd8,Rea1,a5,bxa5,Qa6,Qxa6,Rxa6,Rc4,Bxa5,Rxa5,Rxa5,Bxa5,Rb1+,Be1,Nf4,Rc3', 'Ne2+,Kf1,Nxc3', 'https://lichess.org/training/x2Chg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x2CQN', 'Blitz', 'murateren', 2251, 'packet', 2186, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,e3,Nbd7,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,Bd6,Ng5,h6,Nge4,Nxe4,Nxe4,Bc7,b4,O-O,Qc2,e5,Bb2,f5,Nc5,Nxc5,Qxc5,e4,Bc2,Qh4,g3,Qh3,Bb3+,Kh8,Qe7,f4,d5,Qg4,Qxc7,f3,Qxb7,Rg8,Kh1,Qh3,Rg1,Raf8,dxc6,Rf5,Bxg8', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/x2CQN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x2gxz', 'Rapid', 'Electric_Max', 1720, 'JU5TIS5', 1854, 'd4,d5,c4,Nf6,Nc3,Bf5,f3,e6,cxd5,exd5,Be3,c6,Bf2,Bd6,e3,Nbd7,Bd3,Bg6,Nge2,Qe7,O-O,Bc7,Ng3,Qe6,e4,dxe4,Ngxe4,O-O,Re1,Nxe4,Nxe4,Nf6,Nc5,Qd6,g3,Rab8,Be3,Nd5,Bxg6,fxg6,Bf2,Qf6,Nd7,Qxf3,Nxf8,Rxf8,Qxf3,Rxf3,Re8+,Kf7,Rae1,Bd6,a3,Ne7,Kg2', 'Rxf2+,Kxf2,Kxe8', 'https://lichess.org/training/x2gxz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X2hQO', 'Rapid', 'vvojnovski', 1717, 'gimh97', 1755, 'd4,d5,c4,dxc4,e4,e5,d5,c6,Bxc4,Nf6,Nc3,Bb4,Bg5,Bxc3+,bxc3,O-O,Bxf6,Qxf6,Be2,Rd8,c4,cxd5,cxd5,Qf4,Qd3,Bg4,Bxg4,Qxg4,Qf3,Qxf3,Nxf3,f6,Nd2,Na6,f3,Nc5,O-O,b6,Rac1,Rdc8,Nb3,Nxb3,axb3,Kf7,b4,Ke7,b5,Kd7,Rc6,Rxc6,bxc6+,Kc7,Rc1,a5,Kf1,a4,Ke2,b5,Kd3,b4,Kc4,b3,Kb4', 'b2,Rb1,a3', 'https://lichess.org/training/X2hQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x2Kkp', 'Rapid', 'chessyanoo', 2067, 'Gektor123', 2073, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,Nxf6+,Qxf6,Qd5,Bb7,Rd1,Na5,Qxd6,Qxd6,Rxd6,Bxe4,f3,Bg6,Bd3,Bxd3,Rxd3,Ke7,Kf2,Rad8,Rhd1,Rxd3,Rxd3,Rd8,Rxd8,Kxd8,Ke3,Kd7,Ke4,Ke6,g4,g6,g5,f5+,gxf6,Kxf6,Kd5,Kf5,c4,bxc4,Nxc4', 'Nxc4,Kxc4,Kf4', 'https://lichess.org/training/x2Kkp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X2lrP', 'Classical', 'Jack_Lantan', 1860, 'CorvusAuream', 1708, 'd4,d5,Bf4,Nc6,e3,Bf5,Bd3,Bg6,c3,Nf6,Qc2,e6,Nf3,Ne4,Nbd2,Bd6,Ne5,Nxe5,dxe5,Nxd2,exd6,Bxd3,Qxd3,Ne4,dxc7,Qh4,g3,Qh3,f3,Qg2,Rf1,Nf6,Qb5+,Nd7,Qxb7,O-O,Bd6,Rfc8,Qc6,Nb6,O-O-O', 'Nc4,Qxc4,dxc4', 'https://lichess.org/training/X2lrP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X2mtf', 'Rapid', 'snanda', 2163, 'oguz66', 1814, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be2,O-O,Be3,a6,f3,b5,a3,c5,Nf5,Bxf5,exf5,d5,Bg5,d4,Bxf6,Bxf6,Ne4,Be5,Qd2,f6,Nxc5,Qd6,Ne6,Re8,O-O-O,Rxe6,fxe6', 'Bf4,Qxf4,Qxf4+', 'https://lichess.org/training/X2mtf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X2n3l', 'Classical', 'ajinkya8', 1721, 'Mohit99', 1778, 'd4,d5,c4,e6,Nf3,Be7,Nc3,Nf6,Bf4,O-O,e3,a6,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,c5,dxc5,Bxc5,Rc1,Nbd7,Ng5,Re8,Nce4,Nxe4,Nxe4,Rc8,Qh5,Bxe4,Bxe4,Nf6,Qf3,Nxe4,Qxe4,Bd6', 'Rxc8,Qxc8,Bxd6', 'https://lichess.org/training/X2n3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x2QT7', 'Classical', 'dinasor', 1958, 'Pringles_Moustache', 1896, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Bd3,e6,Nd2,Bd6,Bg3,O-O,Ngf3,cxd4,exd4,Re8,Ne5,Qc7,f4,b6,O-O,Bb7,Bh4,Nd7,Qh5,g6,Nxg6,fxg6', 'Bxg6,Nf6,Bxf6', 'https://lichess.org/training/x2QT7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X2qzX', 'Classical', 'jhonata2561615', 1662, 'Alex-1975A', 1851, 'e4,e5,d4,exd4,c3,Nf6,cxd4,Nc6,Nc3,Bb4,e5,Nd5,Qf3,O-O,Ne2,Nb6,a3,Be7,g3,d6,exd6,Bxd6,Bg2,Re8,O-O,Ne7,Nf4,c6,b4,Nc4,Ne4,Nf5,Nxd6,Qxd6,Qc3,b5,Bb2,Bb7,Nd3,Qh6,Bc1,Qg6,Ne5,Nxe5,dxe5,Nh6,Re1,Rac8,Be4,Qe6,Bb2,Ng4,Bg2,Qf5,f3,Nh6,e6,f6,Qb3,Re7,Rad1,c5,Rd7,Bxf3,Rxe7,Bxg2,Kxg2,c4,Qe3,Ng4,Qxa7,Qc2+,Kh3,Nf2+,Kh4', 'g5+,Kh5,Qg6#', 'https://lichess.org/training/X2qzX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x2wWu', 'Rapid', 'Fabe69', 1920, 'couch_X_warrior', 1929, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Bg5,e6,f4,Be7,Qf3,Nbd7,O-O-O,e5,Nf5,O-O,Nxd6,Qc7,Nf5,Bb4,Nd5,Nxd5,exd5,f6,Bh6,Rf7,d6,Qa5,Ne7+,Kh8,a3,Bc5,Bd3,gxh6,Qh5,Rg7,Qxh6,Bxd6', 'Ng6+,Rxg6,Bxg6', 'https://lichess.org/training/x2wWu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X2XhT', 'Classical', 'notConcentrated', 1786, 'mohamadali2000000', 1794, 'd4,d6,c4,Nf6,Nc3,c6,Nf3,Qa5,Bd2,g6,Nd5,Qd8,Nxf6+,exf6,e3,Bf5,Be2,Qb6,b3,Bg7,O-O,Nd7,Qe1,Qc7,Rc1,O-O,Bc3,g5,Qd2,c5,Bd3,Bg6,h3,Qd8,Bxg6,fxg6,d5,Ne5,Nh2,f5,Qb2,Qe7,Rfe1,Nd3,Qd2,Nxe1,Rxe1,Bxc3,Qxc3,Rfe8,Nf3,g4,hxg4,fxg4,Nh2,h5,f4,Qe4,Qf6,Rad8,Nf1,Qe7,Qxg6+,Qg7,Qxh5,Rf8,Ng3,Rde8,Nf5,Qh7,Qxg4+,Kh8,Nxd6,Re7,g3,Rg7,Qf3,Qh3,Ne4,b6,Ng5,Qh6,Ne6,Rh7,Nxf8,Qxf8,Re2,Qg7,Rh2', 'Qa1+,Qf1,Qxf1+,Kxf1,Rxh2', 'https://lichess.org/training/X2XhT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X2Y2F', 'Rapid', 'ili_fikro', 1873, 'thegambit5130', 1983, 'e4,e5,Bc4,Nf6,Nc3,Nc6,d3,Bc5,h3,d6,Nf3,Na5,Bb3,c6,O-O,Nxb3,axb3,O-O,Na4,Bb6,Nxb6,Qxb6,Be3,Qc7,Rxa7,Rxa7,Bxa7,b6,Qa1,Be6,Qa6,Nd7,Ra1,Ra8,Ng5,h6,Nxe6,fxe6,b4,d5,c3,c5,bxc5,Nxc5,Qxb6', 'Qxb6,Bxb6,Rxa1+', 'https://lichess.org/training/X2Y2F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X2YXu', 'Rapid', 'JTELLO', 1949, 'jd0858', 2119, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,Nf3,Bg4,Nbd2,Nxd4,Nxd4,Bxd1,Bb5+,Qd7,Bxd7+,Kxd7,Kxd1,e5,N4b3,Nf6,c4,d4,f3,a5,a4,Bb4,Re1,Rhe8,Kc2,Rac8,Re2,Nh5,g3,f5,Kd3,Nf6,h4,h6,Rb1,g5,Nf1,gxh4,gxh4,f4,Bd2,b6,Bxb4,axb4,Rc1,Kd6,Nfd2,Rg8,Rce1,Rce8,Ne4+,Nxe4,Rxe4,Rg2,Nxd4,Rxb2,Nb5+,Kd7,Rxe5,Rb3+,Kd4,Rxe5,Kxe5', 'Re3+,Rxe3,fxe3,Nd4,b3,Ke4,b2', 'https://lichess.org/training/X2YXu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x32pE', 'Rapid', 'Draganelll', 1873, 'Eugen1973', 1852, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,d3,a6,Nd2,b5,Bb3,a5,Nf3,a4,Bd5,c6,Bxf7+,Kxf7,Ng5+,Ke8,Qf3,Qe7,O-O,h6', 'Qh5+,Kd8,Nf7+', 'https://lichess.org/training/x32pE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X35Y1', 'Rapid', 'empiretemple', 1688, 'djek', 1759, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,g6,Bc4,Nb6,Bb3,Bg7,c3,O-O,O-O,d5,a3,Bg4,Nbd2,f6,exf6,Bxf6,h3,Bf5,Re1,Kg7,Bc2,Qd7,Ne5,Qc8,Bxf5,Qxf5,Ndf3,N8d7,Qd2,Nxe5,Nxe5,Bxe5,Rxe5,Qf6,Qh6+,Kg8,Bg5,Qxf2+,Kh1,Rf7,Rxe7,Rxe7,Bxe7,Re8,Bh4,Qf5,Qg5,Qxg5,Bxg5,Kg7,Rf1,Rf8', 'Bh6+,Kxh6,Rxf8', 'https://lichess.org/training/X35Y1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x3dck', 'Blitz', 'FM Al_Shima', 2331, 'nashan111', 1755, 'b3,d5,Bb2,Nf6,e3,Nc6,f4,Bg4,Nf3,e6,Bb5,a6,Bxc6+,bxc6,h3,Bh5,g4,Bg6,Ne5,Be4,O-O,Bd6,Nxc6,Qd7,Ne5,Bxe5,Bxe5,Qe7,g5,Nd7,Bxg7,Rg8,Bb2,h6,h4,hxg5,fxg5,Rxg5+,hxg5,Qxg5+,Kf2,Qg2+,Ke1,Qg3+,Ke2,Ne5,d3', 'Qg2+,Ke1,Nf3+,Rxf3,Bxf3', 'https://lichess.org/training/x3dck');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X3Dsk', 'Rapid', 'rdmit', 1840, 'Fonh', 1935, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,Nc3,Be7,h3,O-O,O-O,a6,Bxc6,bxc6,Be3,h6,Ne2,d5,exd5,Nxd5,Nxe5,Nxe3,fxe3,Bd6,Nxc6,Qg5,Rf3,Bb7,Ned4,Bc5,Rf5', 'Qxe3+,Kh1,Bxd4', 'https://lichess.org/training/X3Dsk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X3eH1', 'Rapid', 'hakan4747', 1923, 'StilhelmWeinitz', 1770, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bd6,Nc3,Bc5,Be3,Qf6,Ncb5,Kd8,c3,a6,Qa4,d6,Nxc6+,bxc6,Bxc5,cxb5,Bxb5,dxc5,O-O-O+,Ke7,Bc6,Rb8,e5,Qxf2,Qc4,Qe3+,Rd2,Bf5,Rf1,g6,Qh4+,Kf8,g4,Rd8,Qxd8+,Kg7,g5,Qxe5,Rfd1,h6,h4,Qf4,Qd5,hxg5,hxg5,Qxg5,Qxc5,Ne7,Be4,Rh4,Bxf5,Nxf5,Qe5+,Kh6,Kc2', 'Ne3+,Qxe3,Qxe3', 'https://lichess.org/training/X3eH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x3JFZ', 'Rapid', 'Spitfire6ft4', 1692, 'Lloo', 1619, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c5,e3,cxd4,exd4,Bb4,Be2,Ne4,Qa4+,Nc6,Bd2,Nxd2,Nxd2,O-O,O-O,Bd7,Qb3,a5,a3,Nxd4,Qd1,Nxe2+,Qxe2,Bd6,cxd5,exd5,Nxd5,Bc6,Ne3,Qc7,h3,Qb6,Ndc4,Qc5,Rfd1,Bf4,Rac1,Qg5,g3,Rfe8,h4,Qg6,Kh2,Rxe3,Nxe3,Bxe3,Qxe3,h6,Ra1,Re8,Qa7,Qe4,Rg1,Qe2,Raf1,Re5,Qb8+,Kh7,Kh3,Bd7+,Kg2,Qe4+,Kh2,Rh5,Re1', 'Rxh4+,gxh4,Qxh4+,Kg2,Qh3#', 'https://lichess.org/training/x3JFZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X3K0B', 'Blitz', 'Kingwannabe', 2330, 'FM Charilaos2', 2325, 'e4,Nf6,e5,Nd5,d4,Nb6,a4,d5,a5,N6d7,e6,fxe6,Nf3,g6,h4,Bg7,h5,e5,hxg6,hxg6,Rxh8+,Bxh8,dxe5,Nxe5,Nxe5,Bxe5,Bd3,Kf7,Qf3+,Bf6,Nc3,c6,Qg3,Qg8,Bf4,Nd7,Kd2,Nc5,Re1,Bf5,Be5,Qh8,f4,Bh4,Qe3,Bxe1+,Kxe1,Qh1+,Kf2,Ne6,Ne2,c5,c4,d4,Qf3,Qh4+,g3,Qh2+,Ke1,Rh8,Bxf5,Qh1+,Qxh1', 'Rxh1+,Kd2,gxf5', 'https://lichess.org/training/X3K0B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x3LL0', 'Rapid', 'ivopetrov', 2114, 'simpleman19', 2120, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,e3,Ngxe5,Be2,Bb4+,Bd2,Bxd2+,Nbxd2,d6,O-O,Bg4,Nxe5,Bxe2,Qxe2,Nxe5,Nf3,Qf6,Nxe5,Qxe5,b3,O-O,Rad1,Rad8,Qf3,b6,Qb7,Qe7,a4,a5,Rd4,Rd7,Qf3,h6,Rfd1,Rfd8,Rg4,Qe5,h3,Qc3,Rd5,Qxb3,e4,Qxc4,Qf6,g6,Rh5,Qe6', 'Rxg6+,fxg6,Qxe6+', 'https://lichess.org/training/x3LL0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X3mqS', 'Blitz', 'alburkerk2', 1625, 'ElRulo', 1620, 'e4,c5,Nf3,g6,Bc4,Bg7,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,c3,Rb8,Bf4,Rxb2,Qf3,Rc2,Bxf7+,Kxf7,Bc7+,Ke8,Bxd8,Kxd8,O-O,Nf6,Na3,Rd2,Rad1,Rxd1,Rxd1,Rf8,Qd3,h5,e5,Ng4,e6,d6,f3,Ne5,Qe4,Bxe6,f4,Bd5,Rxd5,cxd5,Qxd5,Ng4,Nb5,Rf5,Qg8+,Bf8,Nxa7,Rxf4,Nc6+,Kd7,Nd4,Rf6,a4,Bh6,h3', 'Be3+,Kh1,Rf1#', 'https://lichess.org/training/X3mqS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X3NFD', 'Blitz', 'fercode88', 1887, 'Husam__Alhasan', 1834, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Be3,g6,f3,Bg7,Qd2,O-O,O-O-O,Re8,g4,Qa5,Kb1,Bd7,h4,h5,Nb3,Qc7,gxh5,Nxh5,Nd5,Qd8,Bh6,Bh8,Rg1,Be6,Nf4,Nxf4,Qxf4,Ne5,h5,Rc8,hxg6,fxg6,Bd3,Qc7,Nd4,Bf7,Qe3,Qa5,a3,Qb6,f4,Nxd3,Rxd3,Rxc2,Nxc2', 'Qxb2#', 'https://lichess.org/training/X3NFD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x3oJq', 'Rapid', 'cmara17d', 1808, 'proleterya1', 1746, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Nf3,Nbd7,Bf4,b6,e3,Bb7,Bd3,c5,O-O,Rc8,Nb5,a6,Nd6+,Bxd6,Bxd6,c4,Bf5,g6,Bxd7+,Qxd7,Be5,Qe6,Ng5,Qf5,Nf3,O-O,Nh4,Qe6,Bxf6,Qxf6,Nf3,b5,Ne5,Qd6,Qg4,f6,Nd7', 'f5,Qe2,Qxd7', 'https://lichess.org/training/x3oJq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X3pQ1', 'Blitz', 'haifisch05', 1635, 'pol-kilo92', 1611, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Be2,Be7,O-O,O-O,Bg5,c6,c3,h6,Bf4,Bd6,Qd2,Qc7,Bxd6,Qxd6,Qc2,Bg4,Nbd2,Re8,h3,Bxf3,Nxf3,Nbd7,Bd3,Re7,Rfe1,Rae8,Re2,Rxe2,Bxe2,Ne4,Re1,Re6,Nh2,Rg6,Bf3,Ndf6,Ng4,Nxg4,hxg4,Ng5,Bd1,Qd7,f3,Ne6,Qf5,Rf6,Qe5,Ng5,Bc2,Re6', 'Qb8+,Qe8,Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/X3pQ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X3pvR', 'Rapid', 'Mikhail_M', 1805, 'Oleygen', 1801, 'e4,e6,d4,d5,Bd3,Nc6,Nf3,Nf6,Bg5,Be7,Bxf6,Bxf6,e5,Be7,O-O,a5,a3,Na7,c4,c5,cxd5,Qxd5,Qa4+,Nc6,Nc3,Qd7,Bb5,O-O,Rad1,Qc7,dxc5,Bd7,Bxc6,Bxc6,Qd4,Bxf3,gxf3,Bxc5,Qd7,Qxe5,Qxb7,Rab8,Qe4,Qg5+,Qg4,Qxg4+,fxg4,Rxb2,Na4,Rc2,Nxc5,Rxc5,Rd7,Rfc8,Ra7,g6,Rd1,Rc1,Rxc1,Rxc1+,Kg2,Kg7,Rxa5,Rc4,h3,h6,a4,Kf6,Ra8,Ke5,a5,Ra4,a6,Kf4,a7,f5,Kg1,Kf3,gxf5,exf5,Rg8,Rxa7,Rxg6,Ra1+,Kh2,Kxf2,Rxh6,Kf3,Rg6,f4,Rg7,Ke3,Re7+,Kf2,h4,Kf3,h5,Kg4,h6,f3,h7,Ra8', 'Rg7+,Kf4,Rg8', 'https://lichess.org/training/X3pvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x3s1P', 'Rapid', 'Nadia1962', 1908, 'humbleshiv', 1826, 'e4,c6,d4,g6,Nf3,d5,Nc3,Bg4,Be2,Bg7,h3,Bxf3,Bxf3,dxe4,Nxe4,Nf6,c3,Na6,O-O,O-O,Be3,Qc7,Nxf6+,exf6,Qd2,Rfe8,Bh6,c5,Bxg7,Kxg7,dxc5,Rad8,Qc2,Nxc5,Rad1,a5,a3,Nd7,Rfe1,Ne5,Rxd8', 'Nxf3+,gxf3,Rxe1+,Kg2,Qxd8', 'https://lichess.org/training/x3s1P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x3wqz', 'Blitz', 'julien211003', 2485, 'CM Suleyman_Chess06', 2465, 'd4,e6,Nf3,d5,Bf4,Nf6,e3,Bd6,Bg3,O-O,Nbd2,b6,c3,Bb7,Bd3,Nbd7,Ne5,Bxe5,dxe5,Ne4,Qc2,Ndc5,O-O-O,Nxd3+,Qxd3,Qe8,Nxe4,dxe4,Qd7,Bd5,Qxe8,Rfxe8,b3,b5,Kb2,c5,Rd2,c4,Rhd1,a5,h4,Rec8,Rd4,h5,Rc1,cxb3,axb3,a4,c4,a3+,Ka2,bxc4,bxc4,Ra4', 'cxd5,Rxc1,Rxa4', 'https://lichess.org/training/x3wqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x40ij', 'Classical', 'Charlydepichardo', 1801, 'vmaryniak', 1870, 'd4,d5,Bf4,e6,Nf3,Bd6,Ne5,f6,Nd3,Bxf4,Nxf4,g5,Nh5,e5,Ng7+,Kf7,Nh5,Nc6,e3,Nh6,dxe5,Nxe5,h3,g4,hxg4,Bxg4,Be2,c6,Bxg4,Nhxg4,Qd4,b6,f4,c5,Qd1,Nxe3,Qe2,N5g4,Kd2,Re8,Qf3,Qe7,Nc3,Nc4+,Kc1,Nh2,Qxd5+,Kf8,Qxc4', 'Qe3+,Kb1,Qe1+,Nd1,Qxh1', 'https://lichess.org/training/x40ij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x40wm', 'Blitz', 'k0ffee', 1770, 'Python4', 1907, 'a3,c5,d4,cxd4,c3,dxc3,e4,cxb2,Bxb2,e6,Nf3,d5,exd5,Qxd5,Bd3,Nf6,Nc3,Qd8,O-O,Be7,Qc2,O-O,Ne4,Nxe4,Bxe4,g6,Rad1,Qb6,Bd4,Qa6,Qc3,Nc6,Bh8,f6,Ng5,Kxh8,Bxg6,hxg6', 'Qh3+,Kg7,Qh7#', 'https://lichess.org/training/x40wm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x42bL', 'Rapid', 'Rashmikant35', 1776, 'marclanc', 1714, 'd4,c5,c3,e6,e3,a6,Nf3,g6,a3,cxd4,cxd4,Bg7,Nc3,Ne7,b3,Nbc6,Rb1,d6,Bb2,b5,d5,Na5,b4,Nc4,Bxc4,bxc4,dxe6,Bxe6,O-O,O-O,Nd4,Bc8,e4,Bb7,Nf3,Bxc3,Bxc3,Bxe4', 'Qd4,f6,Qxe4', 'https://lichess.org/training/x42bL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x459T', 'Rapid', 'ertdfg', 1767, 'stogie', 1835, 'e4,e5,d4,exd4,Nf3,Nc6,c3,Bc5,Bc4,d6,h3,Na5,Qa4+,c6,O-O,Nxc4,Qxc4,Be6,Qe2,dxc3,Nxc3,Nf6,Bg5,O-O,Rad1,h6,Bh4,Qa5,a3,g5,b4,Qxa3,Nxg5,hxg5,Bxg5,Qxc3,bxc5,Bc4,Rc1,Bxe2,Rxc3,Bxf1,Bxf6,Ba6,Rg3+,Kh7,Rg7+,Kh6,g4,Rg8', 'g5+,Kh5,Rh7+,Kg6,Rh6#', 'https://lichess.org/training/x459T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X45iF', 'Rapid', 'rbicim', 1807, 'msheref', 1735, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Bxc6,Bxc6,dxe5,Ne7,exd6,cxd6,Nc3,Ng6,O-O,Be7,e5,O-O,exd6,Bxd6,Bg5,f6,Be3,Qe7,Re1,Rad8,Bb6', 'Bxh2+,Nxh2,Rxd1', 'https://lichess.org/training/X45iF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x47be', 'Blitz', 'IsaiahBuddeau', 1650, 'wiliangibato', 1646, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Nc3,e6,a3,Bd6,Be3,Nc6,Bd3,Bg6,Bxg6,hxg6,O-O,Qb6,Qc1,Qc7,h3,f6,Nb5,Qb8,Nxd6+,Qxd6,c3,g5,Nh2,O-O-O,b4,Nce7,c4,dxc4,Qxc4+,Kb8,Rfd1,Nd5,Bc1,Rc8,Qb3,Nge7,Bb2,g4,Nxg4,Nf5,Bc1,Rc3,Qa2,Nh4,Ne3,g5,Nxd5,Qxd5,Qxd5,exd5,Be3,Rc2,Rdc1,Rhc8,Rxc2,Rxc2,Kh2,Nf5,a4,a6,Ra3,Rb2,b5,axb5,axb5,Rxb5,Rc3,Ka7,g4,Nh4,Kg3,Ng6,Rc7,Rb1,Kg2,Nh4+,Kh2,Nf3+,Kg2,Nh4+,Kh2,Ka6,Rf7,Nf3+,Kg2,Nh4+,Kg3', 'Rg1+,Kh2,Nf3#', 'https://lichess.org/training/x47be');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x47ko', 'Blitz', 'Gianluigi77', 2410, 'FM AlvinM', 2297, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Be7,Bg5,h6,Bh4,O-O,e3,Ne4,Bxe7,Qxe7,Rc1,c6,Bd3,Nxc3,Rxc3,dxc4,Bxc4,Nd7,O-O,e5,Qb3,e4,Nd2,Nf6,Rfc1,Bf5,a4,a5,Nf1,Bg6,Ng3,Rfd8,Ne2,Bf5,Qa3,Qd7,Qc5,Be6,Bxe6,Qxe6,Nf4,Qe8,Qb6,Rd7,Rc5,g5,Re5,Qf8,Ne2,Nd5,Qb3,Re7,Rxe7,Qxe7,Nc3,Rd8,Nxd5,Rxd5,h3,Kg7,Qb6,h5,Rc5,Rxc5,dxc5,g4,hxg4,hxg4,Qxa5,g3,Qc3+,Kg6,fxg3,Qg5,Qd4,Qg4,Qd6+,f6,b4,Qe2,Qd4,Kf5,Qd7+,Kg6,Qe8+,Kg7,Qxe4,Qd1+,Kh2,Qxa4,Qe7+,Kg6,Qxb7,Qd1,Qxc6,Qh5+,Kg1,Qd1+,Kf2,Qd2+,Kf3,Qd1+,Kf4,Qa1,Qe4+,Kg7,c6,Qf1+,Kg4,Qe2+,Qf3,Qc4+,Qf4,Qxc6,Qd4,Qe6+,Kf3,Qf5+,Qf4,Qd5+,Kg4,Kg6,e4', 'Qh5#', 'https://lichess.org/training/x47ko');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x49vU', 'Blitz', 'Komardin_Alexandr', 2247, 'CM Brave_spirit12', 2405, 'd4,Nf6,Nf3,c5,c4,cxd4,Nxd4,d5,cxd5,Qxd5,Nc3,Qd8,g3,e5,Nf3,Qxd1+,Nxd1,Nc6,Bg2,Bb4+,Bd2,e4,Ng5,Bxd2+,Kxd2,Bf5,Ne3,O-O-O+,Kc3,Bg6,Rac1,h6,Nh3,b5,Nf4,Kb7,Nxg6,fxg6,Rhd1,Rc8,Kd2,Rhd8+,Ke1,Nb4,a3,Rxd1+,Kxd1,Rd8+,Ke1,Nc6,f3,exf3,Bxf3,Rd6,Rc5,Kb6,b4,Nd4,Bg2,Re6,Kf2,Nb3,Nd5+,Nxd5,Bxd5', 'Rf6+,Ke3,Nxc5', 'https://lichess.org/training/x49vU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4Ab8', 'Rapid', 'eerdogmus15', 1722, 'moussa2019', 1734, 'd4,e5,dxe5,Nc6,Nf3,d6,exd6,Bxd6,Nd4,Bd7,g3,Nxd4,Qxd4,Bc6,f3', 'Bxg3+,hxg3,Qxd4', 'https://lichess.org/training/X4Ab8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4afW', 'Blitz', 'Thiago_Siqueira', 2043, 'LM Flaneur', 2228, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,c4,Nf6,f3,Qc7,Nc2,b6,Be3,Bb7,Nc3,a6,Be2,Rc8,O-O,Bd6,g3,h5,f4,Bc5,Bxc5,bxc5,e5,Ng4,Bxg4,hxg4,Qxg4,Kf8,Rae1,Nd4,Nxd4,cxd4,Ne4,Bxe4,Rxe4,Qxc4,Qe2,Qxa2,Rxd4,Rc7,Rfd1,Ke7,Qd2,Rd8,Qb4+,Ke8,Qb6,Rc2,R1d2,Qb1+,Kg2,Rxd2+,Rxd2,Qe4+,Kf2,Qh1,Ke3,Qg1+,Rf2,Rc8,Qb3,Qe1+,Kf3,Qa5,Kg2,Qc7,Qe3,Rb8,Qe2,a5,Kh3,Ke7,Qg4,Rh8+,Kg2,Qb7+,Qf3,Qb5,Qa3+,Ke8,Qf3,Rh6,Qa8+,Ke7,Qf3,a4,Qa3+,Ke8,Rc2', 'Qd5+,Qf3,Rxh2+,Kxh2,Qxf3', 'https://lichess.org/training/X4afW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4bFa', 'Rapid', 'WARGOD_ANMOL', 1799, 'Anuragsinghtomar', 1938, 'e4,c5,Bc4,e6,Nc3,Nc6,d3,Nf6,a4,d5,exd5,exd5,Ba2,Be7,Nge2,O-O,O-O,Be6,Nf4,Bg4,f3,Be6,Re1,Qd7,Nxe6,fxe6,Ne2,Nb4,Nf4,Nxa2,Rxa2,e5,Rxe5,Bd6,d4,cxd4,Re2,Qc7,Qxd4', 'Bc5,Qxc5,Qxc5+', 'https://lichess.org/training/X4bFa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x4d41', 'Classical', 'shakirov019', 1540, 'A_Running_Kidling', 1908, 'e4,c6,e5,d5,exd6,exd6,Nf3,Nf6,h3,Bf5,Bc4,d5,Bb3,a5,c3,Bc5,O-O,O-O,Re1,Qb6,d4,Bd6,Nbd2,Ne4,Nxe4,Bxe4,Ng5,Bg6,Bc2,Bxc2,Qxc2,g6,Nf3,Nd7,Bh6,Rfe8,b3,a4,bxa4,Bf8,Bxf8,Nxf8,Ne5,f6,Ng4,Kg7,Qb3,Qc7,c4,dxc4,Qxc4,Nd7,Qc1,Rxe1+,Qxe1,Nb6,a5,Nd5,Qd2,Rxa5,Qh6+,Kg8,Re1,Ra8,Qd2,Qa5,Qxa5,Rxa5,Rb1,b6,Rc1,c5,dxc5,Rxc5,Rb1,Kf7,Kf1,f5,Ne5+,Ke6,Nd3,Ra5,Nb4,Nxb4,Rxb4,b5,Rb2,Kd5,Ke1,Kc4,Kd1,Kc3,Kc1,b4,Rb3+,Kc4,Kb2,Re5,Re3,Rd5,Re2,Rd3,h4,f4,Re4+,Rd4,Rxd4+,Kxd4,Kb3,Kc5,g3,fxg3,fxg3,h5,Kb2,Kc4,Kc2,Kd4,Kb3,Kc5,Kb2,Kb5,Kb3,Ka5,Kb2', 'Ka4,Kb1,Ka3,Ka1,b3,axb3,Kxb3,Kb1,Kc3,g4,hxg4', 'https://lichess.org/training/x4d41');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x4DDw', 'Rapid', 'dswift', 1729, 'Nikoluminous', 1690, 'd4,Nf6,c4,d6,Nc3,g6,e4,Bg7,Nf3,Bg4,h3,Bxf3,Qxf3,O-O,Be2,Nbd7,Bg5,c5,d5,Ne5,Qe3,a6,f4,Ned7,e5,dxe5,fxe5,Ne8,e6,fxe6,Qxe6+,Kh8,Bxe7,Qa5,Bxf8,Bxc3+,bxc3,Qxc3+,Kf2,Qd4+,Qe3,Qf6+,Kg3,Qxf8,Rhf1,Qd6+,Qf4,Kg7,Bg4,Ndf6,Qxd6,Nxd6,Rf3,Nxc4,Rc1,Nd2,Rd3,Nde4+,Kh2,Nf2,Rd2,N2xg4+,hxg4,Nxg4+,Kg3,Ne5,Rxc5,Rd8,d6,b6,Rc7+,Kf6,d7,Ke6,Re2,Kd6,Ra7,Rxd7,Rxa6,Rb7,Rb2,Nc4,Rb4,Kc5,Rb1,Nd2,Rc1+,Kb5,Ra3,Ne4+,Kf3,Nc5,Rb1+,Kc6,Rc3,Kd6,Kf4,Rf7+,Kg5', 'Ne4+,Kh6,Nxc3', 'https://lichess.org/training/x4DDw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4ffQ', 'Rapid', 'aliozture', 1542, 'Mannilhond', 1547, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Nc3,Nf6,O-O,a6,Ba4,d4,Bxd7+,Qxd7,Ne4,Nxe4,Qe2,Nf6,Re1,Nc6,b3,e6,Bb2,Bc5,d3,O-O,Bc1,Rac8,Bg5,Qd8,a3,a5,Qd2,h6,Bh4,Qe7,b4,axb4,axb4,Bxb4,Qf4,Bxe1,Rxe1,Kh8,Ne5,Nxe5,Rxe5,Ra8,g3,Ra2,Qxd4,Rxc2,Rb5,g5,Bxg5,hxg5,Rxg5,Rg8', 'Qh4+,Nh7,Rxg8+,Kxg8,Qxe7', 'https://lichess.org/training/X4ffQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4FZ4', 'Classical', 'Photonesque', 1745, 'minwo', 1749, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bc4,h6,O-O,Ngf6,Re1,e6,c3,Bd6,Bxe6,fxe6,Rxe6+,Be7,Qe2,Bf7,Re3,Nd5,Re4,O-O,Nf5,Bf6,Nxh6+,gxh6,Rg4+,Bg7,Bxh6,Qf6,Bxg7,Qxg7,Rxg7+,Kxg7,Qd2,Bg6,Qg5,Nf4,g3', 'Nh3+,Kg2,Nxg5', 'https://lichess.org/training/X4FZ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4gV2', 'Rapid', 'roynaldo', 1609, 'nikitin19666', 2120, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,c6,d3,Bf5,Be2,e6,Bg5,Be7,Bf4,h6,Qd2,Bd6,Bxd6,Qxd6,O-O-O,Nd7,h3,Ngf6,Rhe1,O-O-O,g4,Bg6,Nh4,Bh7,f4,Nd5,Nxd5,Qxd5,Bf3,Qc5,Be4,Bxe4,Rxe4,Nb6,d4,Qe7,Nf3,Rd5,Re5,Rhd8,Rxd5,Rxd5,Ne5,f6,Ng6,Qe8,Qd3,Kb8,f5,e5,Qg3,Ka8,dxe5,fxe5,Rxd5,Nxd5,Nxe5,Qb8,Qe1,a6,c4,Nb6,c5,Nd5,Nd7,Qf4+,Kb1,Ne3,Nb6+,Ka7,Qd2,Qe4+,Kc1', 'Qh1+,Qe1,Qxe1#', 'https://lichess.org/training/X4gV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x4ib3', 'Rapid', 'giannistst12', 1946, 'wunner', 1962, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,Bg4,Be2,O-O-O,c3,e5,O-O,exd4,Nxd4,Bxe2,Qxe2,Nxd4,cxd4,Qxd4,Be3,Qh4,Bxa7,Bd6,g3,Qh3,a4,Nf6,a5,Ng4,f3,Rhe8,Qg2,Qxg2+,Kxg2,Ne3+,Bxe3,Rxe3,Nc3,Bb4,Rfc1,Rd2+,Kh3,Rxb2,Nd5,Ree2,Rxc7+,Kb8,a6,Rxh2+,Kg4,h5+,Kg5,Bd2+,f4,Rb5', 'a7+,Ka8,Rc8#', 'https://lichess.org/training/x4ib3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4JcY', 'Rapid', 'vikingo31', 2171, 'henry9000', 1980, 'd4,g6,c4,Nf6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,O-O,Ne2,c5,O-O,Nc6,Be3,b6,f4,Na5,Bd3,c4,Bc2,Bg4,Qe1,b5,h3,Bxe2,Qxe2,Qc7,f5,Nb7,e5,a5,Rab1,b4,cxb4,axb4,Rxb4,Rxa2,Rxc4,Qb6,Rb1', 'Qxb1+,Bxb1,Rxe2', 'https://lichess.org/training/X4JcY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x4K0x', 'Rapid', 'bobbi960', 2074, 'Butron', 2038, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nc3,e6,Bd3,Bb4,Nf3,Nc6,O-O,O-O,d5,exd5,exd5,Bxc3,dxc6,Bf6,Be4,Rb8,Bf4,bxc6,Bxc6,Bd7,Bxd7,Nxd7,Rc1,Rxb2,Bxc7,Qe7,Re1,Qb4,Qxd7,Rxa2,Bd6,Qb2,Bg3,h6,Rc8,Rxc8,Qxc8+,Kh7,Qf5+,g6,Qd7,Kg7,Ne5', 'Bxe5,Bxe5+,Qxe5', 'https://lichess.org/training/x4K0x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x4op4', 'Classical', 'vivian_g9', 1875, 'ksayers57', 1817, 'e4,c5,Nf3,Nc6,g3,g6,Bg2,Bg7,d3,Nf6,O-O,O-O,Nbd2,d6,Re1,Qc7,Nf1,Bd7,h4,Rab8,c3,b5,Qe2,b4,c4,a5,Bf4,Nh5,e5,Nxf4,gxf4,dxe5,fxe5,h5,Ne3,Nxe5,Nd5,Nxf3+,Bxf3,Qd6,Nxe7+,Kh8,Nd5,Rfe8,Qd2,a4,Rab1,Bc6,b3,axb3,axb3,Rxe1+,Rxe1,Bd4', 'Qh6+,Kg8,Ne7+,Qxe7,Rxe7', 'https://lichess.org/training/x4op4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x4PY3', 'Rapid', 'Noktilovich1976', 1853, 'DemetriousJohnson', 1822, 'd4,d5,e3,Bf5,c3,c6,f4,Nf6,Nf3,Nbd7,Bd3,Bxd3,Qxd3,Ne4,Nbd2,Ndf6,Nxe4', 'dxe4,Qe2,exf3', 'https://lichess.org/training/x4PY3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4pYW', 'Blitz', 'Garrik62', 1603, 'sildc', 1571, 'c4,c5,d4,e6,dxc5,Bxc5,e4,Nf6,Nh3,Nxe4,Bd3,Nf6,O-O,Nc6,a3,b6,b4,Be7,Nc3,Bb7,Ne4,Nd4,Nxf6+,Bxf6,Bb2,Nf3+,gxf3,Bxb2,Rb1,Bf6,Be4,d5,cxd5,exd5,Bf5,O-O,Qd3,g6,Bg4,h5,Bxh5,gxh5,Qf5,h4,Kh1,Bg7,Rg1,Bc8,Qe5,f6,Qh5,Bxh3', 'Rxg7+,Kxg7,Rg1+,Bg4,Rxg4#', 'https://lichess.org/training/X4pYW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4SLp', 'Blitz', 'SERGEY89555', 1818, 'Roman_maman', 1871, 'd4,Nf6,c4,d6,Nc3,c5,d5,e5,e4,Be7,Be3,a6,Bd3,Bd7,Nge2,b5,cxb5,axb5,Nxb5,O-O,O-O,Bxb5,Bxb5,Nxe4,a4,Nf6,f4,e4,Ng3,Nbd7,Qc2,Nb6,Nxe4,Nfxd5,Bd2,Rc8,Rf3,Nf6,Raf1,d5,Ng5,c4,Rh3,h6,Nf3,d4,Qf5,Rc5,Ne5,c3,bxc3,dxc3,Bc1,Qd4+,Kh1,Nbd5,Nc6,Rxc6,Bxc6,Bd6,Rd3,Qc4,Rfd1,Bxf4,Bxd5,Nxd5,Qxd5,Qxa4,Bxf4,c2,Rc1,Qxf4,Rd2,Rc8,Qd3,g6,Rdxc2', 'Qxc1+,Rxc1,Rxc1+,Qd1,Rxd1#', 'https://lichess.org/training/X4SLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x4sVj', 'Rapid', 'Kreteningen', 1941, 'mubio', 1915, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Be3,Ngf6,Ng3,Bd6,Nf3,O-O,Bd3,b6,O-O,Bb7,c3,c5,dxc5,Nxc5,Bxc5,bxc5,Re1,Rb8,Ne5,Qe7,Ng4,Nxg4,Qxg4,g6,Nf5', 'exf5,Rxe7,fxg4', 'https://lichess.org/training/x4sVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4uGK', 'Rapid', 'syalu', 1825, 'Zbigniewzgolfa', 1883, 'e4,c5,Nf3,d6,Nc3,Nf6,Be2,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,O-O,Be7,f4,O-O,f5,Qb6+,Kh1,Bb7,Bf3,Rad8,a3,Rfe8,b4,Rd7,Qe1,Bf8,Be3,c5,Nd5,Nxd5,exd5,e4,Bg4,Rdd8,bxc5,dxc5,Rb1,Qc7,Bf4,Bd6,Bxd6,Rxd6,Qg3,Ba6,Rfe1,Qe7,Re3,Rxd5,Rbe1,Rd2', 'Rxe4,Qxe4,Rxe4', 'https://lichess.org/training/X4uGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x4Ute', 'Rapid', 'm-doug', 1887, 'alena2', 1664, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Nc6,c4,a6,Be2,d6,O-O,Nf6,Nc3,e5,Nc2,Be7,b3,O-O,f3,b6,Qd2,Nh5,Nd5,f5,exf5,Bxf5,Bd3,Bxd3,Nxe7+,Qxe7,Qxd3,Nf4,Qe4,Rac8,Rd1,Qf6,Ba3,Qg5,Rd2', 'Nh3+,Kh1,Qxd2', 'https://lichess.org/training/x4Ute');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4wvC', 'Blitz', 'Pushedpawn', 1988, 'ff2000', 1979, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bd3,Bxd3,Qxd3,e6,Bg5,Be7,Nf3,Nh6,Nbd2,Nf5,c3,Nxh4,Bxh4,Bxh4,Nxh4,g5,Nhf3,Nd7,Qe3,g4,Nh4,Qe7,g3,O-O-O,b4,Kb8,a4,Rc8,O-O,Nf8,Rfb1,Ng6,Nxg6,fxg6,c4,h4,cxd5,exd5,Qf4,hxg3,Qxg3,Rh3,Qxg4,Rch8,Kf1,Qf8,Ke2,R8h4,Qg5,Rxd4,Rg1,Rf4,Rg2,Rf5,Qxg6,Rxe5+,Kd1,Rh1+,Kc2,Rxa1,Qg3,Qf5+,Kb2,Rd1,Qg8+,Kc7,Rg7+,Kb6', 'Qd8+,Ka6,Qa5#', 'https://lichess.org/training/X4wvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x4y0F', 'Rapid', 'RaimundK', 2044, 'duka-bg', 1926, 'Nf3,d5,g3,g6,Bg2,Bg7,d4,Nf6,O-O,b6,c4,Bb7,Ne5,O-O,Nc3,Ne4,Nxe4,dxe4,Be3,Nd7,Nxd7,Qxd7,Rc1,e6,b3,a5,d5,exd5,cxd5,Bxd5,Bxe4,c6,Rxc6', 'Bxc6,Qxd7,Bxd7,Bxa8,Rxa8', 'https://lichess.org/training/x4y0F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X4yV3', 'Rapid', 'AharDotNET', 1755, 'Balla1510', 1844, 'e4,e5,Bc4,Nf6,d3,Bc5,f4,Nc6,Nf3,Ng4,Rf1,Ne3,Bxe3,Bxe3,fxe5,O-O,Qe2,Bh6,Nbd2,Re8,O-O-O,Nxe5,Nxe5,Rxe5,Rxf7,d5,Bxd5,Qxd5,Rdf1,Be6,exd5,Rxe2,dxe6,Bxd2+,Kd1,Rxg2,e7,Bb4', 'Rf8+,Rxf8,Rxf8#', 'https://lichess.org/training/X4yV3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5322', 'Rapid', 'Sergey_MK1', 1824, 'denis0014', 1813, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bd6,Bg5,c6,Bd3,O-O,Qd2,Re8+,Be3,Bg4,O-O-O,Nbd7,h3,Bh5,g4,Bg6,g5,Ne4,Nxe4', 'dxe4,Be2,exf3', 'https://lichess.org/training/X5322');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X57HG', 'Blitz', 'Sharlov_A_I', 2021, 'chess2207', 2080, 'e4,c5,Nf3,d6,Bb5+,Bd7,Nc3,a6,Bxd7+,Qxd7,d3,Nc6,h3,Nf6,O-O,g6,Be3,Bg7,Qd2,O-O,Bh6,b5,Rae1,Nd4,Nxd4,cxd4,Nd1,e5,c3,dxc3,Nxc3,b4,Ne2,a5,Bxg7,Kxg7,f4,Rfe8,f5,Rad8,Qg5,Qe7,fxg6,hxg6,Rf2,Nh5,Qg4,Rf8,Ref1,d5,Ng3,Nxg3,Qxg3,dxe4,dxe4,Rd4,Rf6,Rxe4,Qg5,Qc5+,Kh1,Qd4,Rxg6+,fxg6,Qe7+,Kh6,Qxf8+,Kh5,g4+,Kh4,Qh6+,Kg3,Rg1+', 'Qxg1+,Kxg1,Re1#', 'https://lichess.org/training/X57HG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X58jG', 'Rapid', 'eviltine', 1629, 'ramtinn', 1684, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,Be3,cxd4,Bxd4,Bb4,O-O,c5,Bf2,O-O,Na4,Rb8,c3,Ba5,Qc2,f6,exf6,Nxf6,Nxc5,Nh5,Nd3,Qc7,b4,Bb6,Bxb6,Qxb6+,Kh1,Nxf4,Nxf4,Rxf4,Ng5,Rh4,Qf2,Qxf2,Rxf2,Bd7,Raf1,Bb5,Re1,Rc4,Rf3,Re8,h3,Bd7,Ree3,d4,cxd4,Rxd4,a3,Rd2,Rc3,e5,Rf7,Be6,Nxe6,Kxf7,Ng5+,Kg6,Nf3,Ra2,Rc6+,Kf5,Rxa6,Rc8,Ra5,Re2', 'Nd4+,Ke4,Nxe2', 'https://lichess.org/training/X58jG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x5bhX', 'Rapid', 'buddhajesus', 1763, 'Theflyingtomatoe', 1802, 'e4,d5,exd5,Nf6,Nc3,Bg4,f3,Bf5,Bc4,e6,dxe6,Bxe6,Bxe6,fxe6,d3,Nc6,Qe2,Nd4,Qd2,Bb4,Nge2,e5,a3,Ba5,b4,Bb6,Nxd4,Bxd4,Bb2,Nd5,O-O-O', 'Be3,Nxd5,Bxd2+', 'https://lichess.org/training/x5bhX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5By0', 'Blitz', 'chessflash88', 2408, 'Saveliev', 2390, 'Nf3,d5,g3,Nf6,Bg2,h5,O-O,Nc6,c4,dxc4,Qa4,g6,Ne5,Bd7,Nxc6,bxc6,Bxc6,Bg7,Qxc4,Rb8,Nc3,h4,b3,hxg3,hxg3,Ng4,Bb2,Ne5,Bxd7+,Qxd7,Qa4,c6,Qe4,Rb4,Qxb4', 'Qh3,Qb8+,Kd7', 'https://lichess.org/training/X5By0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5DIe', 'Rapid', 'VitalyVorobyev', 1938, 'NelsonMorales', 1742, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Be2,Nf6,Nf3,e6,O-O,Bd6,Bd2,Qc7,Re1,O-O,Bc4,b5,Bb3,a5,a3,Ng4,h3,Bh2+,Kf1,Nxf2,Kxf2,Bg3+,Ke2,Bxe1,Qxe1,Nd7,Qh4,Ba6,Ke1,c5,Bxe6,fxe6,Ng5,Nf6,Nxe6,Rfe8,d5,Qe5+,Kd1,Nxd5,Nxd5,Qxd5,Nf4,Qd7,c3,Rad8,Qf2,c4,Kc2,Qf5+,Kc1,Rd3,g4,Qd7,Nxd3,Qxd3,Rb1,Re2,Qf4,Re8,b4,a4,Rb2,Bb7,Qf5,Qxh3,Rc2,Be4,Qd7,Qf1+,Kb2,Rf8', 'Qe6+,Qf7,Qxe4', 'https://lichess.org/training/X5DIe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5E97', 'Blitz', 'cemilcicek', 2185, 'AdrianoNunesFX', 2185, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,Be3,a6,Qd2,Nf6,f3,Be7,g4,b5,O-O-O,Bb7,Kb1,O-O,h4,Rfc8,h5,b4,Nce2,d5,g5,Nd7,exd5,exd5,g6,fxg6,hxg6,h6,Nf4,Nxd4,Bxd4,Bf6,Nh5,Bxd4,Qxd4', 'Qxc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/X5E97');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5ft1', 'Rapid', 'Bakyt_happy', 1796, 'cleberGemelli', 1799, 'Nf3,d5,d4,c5,e3,c4,Nc3,Nf6,g3,Bf5,Bg2,e6,a3,a6,Bd2,Nc6,Ne2,Bd6,c3,O-O,O-O,Ne4,Nh4,Qf6,Nxf5,Qxf5,f3,Ng5,Nf4,e5,dxe5,Qxe5,Qc2,Rfe8,Rae1,Na5,e4,dxe4,fxe4,Nb3,Nh3,Nxh3+,Bxh3,Nxd2,Qxd2,Rad8,Qe2,Bc5+,Kh1,Rd6,Rf5,Qe6,Qf1,Bb6,Rxf7', 'Qxf7,Qxf7+,Kxf7', 'https://lichess.org/training/X5ft1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5fyM', 'Rapid', 'jivid', 1907, 'her01n', 1925, 'd4,d5,Nf3,Nc6,e3,Nf6,Bb5,a6,Ba4,b5,Bb3,e6,a4,Bd7,Nc3,b4,Ne2,Bd6,Bd2,a5,O-O,O-O,Rc1,Rc8,c3,bxc3,Nxc3,Nb4,Nb5,Ne4,Nxd6,Nxd6,Bxb4,axb4,Ne5,Ne4,Qe1,c5,dxc5,Nxc5,Qxb4,Nxb3,Qxb3,Rb8,Qa2,Be8,Rc2,Qa5,Rfc1,Qxa4,Qb1,Bb5,Nc6,Ra8,Rc3,Qa2,Qc2,Ba4,Qd3,Qxb2,Ne7+,Kh8,e4,Bb5,Qh3,h6,exd5,Ra1,Qe3,Rfa8,dxe6', 'Rxc1+,Rxc1,Ra1', 'https://lichess.org/training/X5fyM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5jBT', 'Rapid', 'Izztupido', 2031, 'Raclot', 1789, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Bg4,Be2,e6,O-O,Be7,c4,Nb6,b3,Bf6,Bb2,Nc6,Na3,O-O,Nc2,a5,h3,Bxf3,Bxf3,Qc8,Qe2,Re8,Qd3,Nb4,Nxb4,axb4,a4,bxa3,Rxa3,c6,Rd1,Rd8,Rxa8,Qxa8,Qb1,Rd7,Qa1,Kf8,Kf1,Ke8,Qxa8+,Nxa8,Ke2,Nc7,Bc3,Na6,g4,h6,Be4,g6,f4,Rd6,Bf3,b5,Ke3,bxc4,bxc4,c5,Ke4,cxd4,Bxd4,Bxd4,Rxd4,Rxd4+,Kxd4,Ke7,Bb7,Nb8,Kc5,f5,Kd4,g5,gxf5,exf5,fxg5,hxg5,Ke5,f4,Kf5,Nd7,Kxg5,Ne5,c5,f3,Be4,f2,Bg2,Nd3,c6,Kd6,h4,Ne5,h5,Nxc6', 'h6,Ke6,h7', 'https://lichess.org/training/X5jBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5lo6', 'Blitz', 'villaoibos', 2043, 'Ufuk50', 2046, 'e4,c5,b4,d5,e5,e6,bxc5,Bxc5,d4,Be7,c3,a6,Bd3,Nc6,Nf3,h6,O-O,Bd7,Ba3,Bxa3,Nxa3,b5,Bxb5,axb5,Nxb5,Nge7,Nd6+,Kf8,Nb7,Qc7,Nc5,Nf5,Qd3,g6,Rfb1,Bc8,a4,Kg7,g4,Nfe7,c4,Na5,cxd5,exd5,Qe3,Nc4,Qf4,Ng8,h3,g5,Nxg5,hxg5,Qxg5+,Kf8,e6,Qe7,Qxd5,Ra7,Rb8,Nd6,Rab1,Nf6,Qe5,Rxh3,Nd7+,Nxd7,exd7,Qxe5,Rxc8+,Nxc8,dxc8=Q+,Qe8,Qc5+,Kg7,Qxa7,Qh8,Rb7', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/X5lo6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5mwl', 'Blitz', 'FM najull', 2311, 'GPNATHAN', 1998, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,dxe5,Nf5,Qxd8+,Kxd8,Nc3,Be6,Ne4,Ke7,Bg5+,Ke8,Rfd1,Be7,Bf4,Bd5,Re1,Nh4,Nf6+,gxf6,Nxh4,fxe5,Bxe5,Rg8,Bf6,Be6,Bxe7,Kxe7,Nf5+,Kf6,Ng3,Rad8,Re3,Rd2', 'Ne4+,Ke7,Nxd2', 'https://lichess.org/training/X5mwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x5my2', 'Rapid', 'su2015', 1845, 'Battleofknights', 1859, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,g6,Ng5,d5,exd5,Nxd5,Nxd5,Qxg5,Nxc7+,Kd7,Nxa8,Qxg2,Rf1,Qe4+,Qe2,Qxc2,Bxf7,Nd4,Qe3,Bc5,Bd5,Kd6,Be4,Qc4,Rg1', 'Nc2+,Bxc2,Bxe3', 'https://lichess.org/training/x5my2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5n52', 'Classical', 'Jacek1974', 1881, 'Eberborba', 1937, 'e4,e6,Nf3,d5,e5,c5,Nc3,Nc6,Bb5,Qb6,O-O,d4,Bxc6+,bxc6,Ne4,Nh6,c3,Nf5,a4,a5,g4,Ne7,b3,Nd5,cxd4,cxd4,d3,c5,Ba3,Nb4,Bxb4,axb4,Qc1,Ba6,Rd1,Qb7,Kg2,Bxd3,Nd6+,Bxd6,Rxd3,Bxe5,Qg5,Qe4,Rad1,h6', 'Qxe5,Qxe5,Nxe5', 'https://lichess.org/training/X5n52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x5OoJ', 'Blitz', 'Sargentoh', 2015, 'KingOfTernat', 2021, 'e4,e5,f4,Bc5,Nf3,d6,Bc4,Nc6,Nc3,Nf6,d3,Bg4,h3,Bxf3,Qxf3,Nd4,Qg3,Nxc2+,Kd1,Nxa1,fxe5,dxe5,Qxg7,Rf8,Rf1,Be7,Bh6,Qd6,Bg5,Nh5,Bxf7+,Rxf7,Qxf7+,Kd7,Bxe7', 'Qxd3+,Ke1,Nc2+,Kf2,Qe3#', 'https://lichess.org/training/x5OoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5SXQ', 'Rapid', 'sachertorte69', 1712, 'Helgos86', 1656, 'e4,e6,d4,d5,f3,c5,c3,Nc6,Ne2,Bd7,Be3,cxd4,cxd4,Bb4+,Nbc3,Nge7,a3,Ba5,b4,Bb6,Nf4,dxe4,fxe4,O-O,Nh5,Rc8,Nb5,Nxd4,Bxd4,Bxd4,Nxd4,Ng6,Qf3,Ba4,Qe3,Qh4+,Ng3,Rfd8,Be2,Qf6,Nf3,Qxa1+,Kf2,Qb2,Qxa7,Bb5,Qe3,Rc3,Qb6,Bxe2', 'Qxd8+,Nf8,Nxe2', 'https://lichess.org/training/X5SXQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X5VCu', 'Rapid', 'molodoy1775', 1998, 'Wanderkoenig', 2329, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,bxc6,e5,d6,O-O,Bg4,Re1,Bg7,exd6,Qxd6,h3,Bc8,d3,Nf6,Nc3,O-O,Be3,Rb8,Na4,Nd7,Rb1,Ba6,Nd2,f5,Qe2,e5,b3,Qe7,Bf4,Rbe8,c4,Qd6,Be3,Re6,Rbd1,Rfe8,f3,Qe7,Qf2,Bf8,Nb1,e4,dxe4,fxe4,f4,Bc8,Nbc3,Qf6,Ne2,a5,Ng3,h5,Nf1,Kh7,Nxc5,Nxc5,Bxc5,Bxc5,Qxc5,Qxf4,Ne3,Qe5,Qxe5,Rxe5,Rd6,R5e6,Red1,Kg7,Kf2,Kf6,Nc2,Ke5,Rxe6+,Bxe6,Ke3,Rf8,Nd4,Bd7,Ne2,Bc8,Ng3,Bf5,Rd4,a4,Nxe4,axb3,axb3,Ra8,Nd2,Ra1,Rd8,Re1+,Kf2,Rc1,Ke3,Rc3+,Ke2,Kf4,Kf2,Bc2,Rd4+,Ke5,Nf3+', 'Rxf3+,Kxf3,Kxd4', 'https://lichess.org/training/X5VCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x5VIM', 'Rapid', 'Rechtsspieler', 1957, 'Hans_Schweinehirt', 1781, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,O-O,Be2,d6,O-O,Nbd7,h3,b6,c4,Bb7,Nc3,Ne4,Nxe4,Bxe4,Nd2,Bb7,Qc2,a5,Bh2,e5,d5,Nc5,b3,e4,Rad1,Qg5,Nxe4,Qf5,Bd3,Nxd3,Qxd3,Rfe8,Ng3,Qxd3,Rxd3,a4,b4,Ba6,b5,Bc8,Ne2,Bf5,Rdd1,a3,Nd4,Ra4,Nxf5,gxf5,Rc1,Re4,Bf4,Rexc4,Bg5,Bb2,Rcd1,Kf8,f3,Ke8,Rf2,Rab4,Re2,Rxb5,e4,fxe4,fxe4,Rbb4,Rde1,Bc3,Rc1,Bd4+,Kh2,Be5+,g3,Rxe4,Rxe4,Rxe4,Rxc7,Re2+,Kg1,Rxa2,Re7+,Kf8,Rb7,Bd4+,Kf1,Rf2+,Ke1,a2,Ra7,a1=R+,Rxa1,Bxa1,Kxf2,b5,Bd2,Ke7,Bb4,Bd4+,Kf3,Bc5,Bc3,b4,Bb2,f6,Ke4,Kf7,Kf5,Bf2,g4,Bh4,Bd4,b3,Bb2,Ke7,Ke4,Kd7,Kd4,Kc7,Kc4,Kb6,Kxb3,Kc5,Kc3,Kxd5,Kd3,Ke6,Ke4,Bg5,Bc3,d5+,Kf3,Kd6,Kg3,Kc5,h4,Bxh4+,Kxh4,d4,Bd2,Kc4,Kh5,Kd3,Bc1,Ke4,Kh6,Kf3,Kh5,d3,Kh6,Kg3,Kxh7', 'Kxg4,Kg7,f5', 'https://lichess.org/training/x5VIM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x5XVh', 'Blitz', 'OrcaTec', 2332, 'FM magolosof', 2335, 'e4,c5,Nf3,g6,c4,Bg7,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,O-O,Nc2,d6,Be2,Nd7,Qd2,a5,O-O,Nc5,f3,a4,Rab1,Qa5,Rfd1,Be6,Nd5,Qxd2,Rxd2,Bxd5,cxd5,Ne5,Nd4,Rfc8,Nb5,h5,Rc1,f5,Bxc5,dxc5,d6,exd6,Nxd6,Rd8,Rxc5,fxe4,Nxe4,Nxf3+,gxf3,Rxd2,Bc4+,Kh8,Rc7,Rxb2,Ng5,Bd4+,Kf1,b5', 'Rh7#', 'https://lichess.org/training/x5XVh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x5YAj', 'Classical', 'keyvan_k99k', 1767, 'wwwebbb', 1821, 'e4,e5,Nf3,d6,Bc4,Qe7,O-O,Bg4,h3,Bh5,c3,Nd7,d4,f6,Nbd2,Nb6,Re1,O-O-O,Qb3,Nxc4,Qxc4,g5,Nf1,Bxf3,gxf3,Qd7,Kg2,h5,Ne3,Ne7,Qf7,g4,fxg4,hxg4,Nxg4,f5,Nf6,Qb5,Qe6+,Kb8,exf5,exd4,cxd4,Nxf5,d5,Bg7,Qxf5,Bxf6,Qxf6,Qxd5+,Kf1,Qh1+,Ke2,Rde8+,Be3,Qxh3,Rh1,Qg4+,f3', 'Qg2+,Kd3,Rxh1,Rxh1,Qxh1', 'https://lichess.org/training/x5YAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x60N6', 'Rapid', 'Emma1305', 1646, 'SimeonErkin', 1679, 'd4,e6,c4,d5,e3,dxc4,Bxc4,Nf6,Nf3,Bd6,O-O,O-O,Nbd2,a6,Bd3,b5,a3,Bb7,b4,a5,bxa5,Rxa5,Bb2,Nbd7,Qc2,c5,e4,c4,Be2,Bc7,Bc3,Ra7,e5,Nd5,Ne1,N7b6,f4,f6,Nef3,fxe5,fxe5,Ne3,Qb2,Nxf1,Rxf1,Bc6,Bd1,Qe7', 'Bb4,Qd8,Bxf8', 'https://lichess.org/training/x60N6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x61aw', 'Blitz', 'miguelms1990', 2002, 'ppg_ecu', 2362, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bg5,Qb6,Nxc6,bxc6,Qd2,Qxb2,Rb1,Qa3,Rb3,Qa5,Bxf6,gxf6,Bd3,Be6,Rb1,f5,exf5,Bxf5,Bxf5,Qxf5,O-O,Bg7,Rb7,Bf6,Qe3,Qa5,Ne4,Qe5,Nxf6+,Qxf6,Rd1,d5,Rd4,e5,Rd1,O-O,h3,a5,Qb6,Kh8,Rc7,Rg8,g3,Qf3,Rd3,Qe4,Qxc6,Rab8,Qf6+,Rg7,Rxf7', 'Rb1+,Rd1,Rxd1+,Kh2,Rh1#', 'https://lichess.org/training/x61aw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X65F6', 'Rapid', 'ricardogr1', 1665, 'yaw_keanhuat', 1625, 'c4,e5,Nc3,Nf6,e4,d6,d4,Be7,Nf3,O-O,d5,c6,a3,cxd5,cxd5,Nfd7,b4,f5,Nd2,fxe4,Ndxe4,Nf6,Bd3,Nbd7,Bg5,Nxe4,Bxe7,Qxe7,Nxe4,Nf6,Ng5,h6,Ne4,Nxd5', 'Bc4,Be6,Bxd5', 'https://lichess.org/training/X65F6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x67aR', 'Rapid', 'Z3eem', 1643, 'cumhur', 1647, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,c3,dxc3,dxc3,h6,Nd2,c6,Ba4,Bc5,b4,Bb6,Bb3,d6,Nc4,Bc7,Bf4,Nf6,Bxd6,Bxd6,Nxd6+,Kf8,e5,Nd5,Qf3,Be6,Nxb7,Qe7,Bxd5', 'Bxd5,Qe3,Qxb7', 'https://lichess.org/training/x67aR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X6al0', 'Rapid', 'hiiamsourav', 1951, 'Jgor', 1942, 'c3,d5,d4,Bf5,Nf3,e6,Bf4,Nf6,e3,Be7,Be2,O-O,O-O,c5,Nbd2,c4,Nh4,b5,Nxf5,exf5,Nf3,a5,Ne5,Qc8,h3,Nc6,Nf3,Ne4,Qc2,b4,a3,Ra6,axb4,axb4,Nd2,b3,Qc1', 'Rxa1,Qxa1,Nxd2', 'https://lichess.org/training/X6al0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x6BHo', 'Classical', 'Eduard_761', 1904, 'Martin_Styles', 1872, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,b6,e5,Ng8,Nf3,Bb7,Be2,e6,d5,Ne7,dxe6,dxe6,Qxd8+,Kxd8,Bd2,Nbc6,Rd1,Ke8,Nb5,Rc8,O-O,a6,Nc3,Nxe5,Nxe5,Bxe5,Bh6,Rd8,f4,Bf6,g4,Bd4+', 'Rxd4,Rxd4,Bg7,Rd2,Bxh8', 'https://lichess.org/training/x6BHo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X6bkn', 'Blitz', 'FM mastertime', 2569, 'GM TheRedKing89', 2699, 'd4,Nf6,Bg5,g6,Bxf6,exf6,e3,f5,Ne2,b6,Nf4,Bb7,Be2,h5,Bf3,c6,h4,Bh6,g3,Qe7,Qd2,d5,Na3,Nd7,c4,dxc4,Nxc4,O-O,Rc1,Rad8,Qc3,Nf6,Ne5,c5,dxc5,Bxf3,Nxf3,Bxf4,gxf4,Ne4,Qe5,Qb7,c6,Qa6,c7,Rde8,Qd5,Nc5,Ne5,Re6,b4,Ne4,Qd8,Ree8,Qd5,Kg7,Rg1,Rc8,Qc4,Qxc4,Rxc4,Rfe8,Ke2,Re7,Rgc1,Nd6,Rc6,Nb5,Nc4', 'Nd4+,Kf1,Nxc6', 'https://lichess.org/training/X6bkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x6CGF', 'Classical', 'Abdalrguib', 1741, 'MIHAIbx', 1734, 'e4,c5,Nf3,Nc6,Nc3,e5,Nd5,d6,Bb5,Ne7,a3,a5,a4,Bd7,c4,Nxd5,exd5,Nd4,Nxd4,exd4,O-O,Be7,Re1,O-O,Bxd7,Qxd7,b3,Bf6,d3,Rfe8,Bd2,Rxe1+,Bxe1,b6,Qh5,Re8,Bd2,Re5,Qf3,Qe7,g3,Re2,Ra2', 'Rxd2,Rxd2,Qe1+,Kg2,Qxd2', 'https://lichess.org/training/x6CGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x6CIt', 'Rapid', 'mheyni', 1779, 'Pepex8', 1734, 'd4,d5,c4,dxc4,e3,e5,d5,Nf6,Bxc4,Bf5,Nc3,Bb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/x6CIt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X6d2v', 'Rapid', 'WetCardboardBox', 1898, 'mrFarid', 1928, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Nxe5,Rxe5+,Be7,Ba4,O-O,Bb3,b6,Nc3,Bb7,d3,Re8,Nd5,Bf8,Rxe8,Qxe8,Nxc7,Qe5,Nxa8,Bxa8,Bd2,Nf5,Bc3,Qf4,Qh5,Nh4,Qxf7+,Qxf7,Bxf7+,Kxf7,g3,Nf3+,Kf1,Nxh2+,Ke2,Bf3+,Ke3,Bc5+,d4,Be7,Re1,Bg5+,Kd3,Ng4,a4,Nxf2+,Kc4,Ne4', 'Rf1,Kg6,Rxf3', 'https://lichess.org/training/X6d2v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x6EAL', 'Rapid', 'JulianRoss92', 2074, 'Lonato', 1709, 'e4,c6,d4,d5,exd5,cxd5,c4,Bf5,c5,e6,Nf3,Nf6,b4,a6,Nc3,Nbd7,Be2,Be7,O-O,Ne4,Nxe4,Bxe4,Bb2,g5,a4,g4,Nd2,h5,Nxe4,dxe4,b5,Nf8,c6,bxc6,bxc6,Qc7,Rc1,f5,d5,Rh7,Qb3,Rb8,Qc4,Rxb2,Qxa6,exd5,Rb1,Rxe2,Rb7,Qc8', 'Rxe7+,Kxe7,Qxc8', 'https://lichess.org/training/x6EAL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X6IyA', 'Blitz', 'adamviva', 1849, 'checkmonk', 1758, 'd4,g6,e3,Bg7,Bd3,d6,f4,b6,Nf3,Bb7,Nbd2,Nd7,O-O,c5,c3,Rc8,f5,Nh6,fxg6,hxg6,Ng5,e6,Ndf3,Bxf3,Nxf3,Ng4,Qc2,cxd4,Bxg6,Nxe3,Bxf7+,Kf8,Qe4,Nxf1,Kxf1,Kxf7,Ng5+,Kg8', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/X6IyA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x6jw8', 'Rapid', 'bobchess77', 1659, 'pinkhasov', 1672, 'e4,e6,Nc3,Ne7,Nf3,Ng6,d4,Nc6,Bb5,Nce7,O-O,a6,Ba4,b5,Bb3,Bb7,Re1,d6,d5,e5,a3,Nc8,Bg5,Be7,Bxe7,Ncxe7,Ne2,Bc8,Ng3,f5,exf5,Nxf5,Nxf5,Bxf5,Nd4,O-O,Nc6,Qf6,Qd2,Rf7,c4,Bd7,cxb5,axb5,Rac1,Raf8,Rf1,Qh4,f3,Nf4,Na7,Rf6,Rxc7,Rg6,Rf2,Nh3+,Kf1,Nxf2,Qxf2,Qxf2+,Kxf2,Bf5,Nxb5,h5,Rc6,Rff6,a4,Bd7,Rc7,Bxb5,axb5,e4,b6,exf3,gxf3,Rf8,b7,Rgf6,Rc8', 'Rxf3+,Ke2,Rxb3', 'https://lichess.org/training/x6jw8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x6m3u', 'Rapid', 'donolivo77', 1890, 'Tzomit', 1870, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,dxc5,Bxc5,Be2,Qc7,O-O,Nxe5,a3,Nf6,Bg5,Ne4,Bb5+,Nc6,Bxc6+,bxc6,b4,Bd4,c3,Bf6,Bxf6,Nxf6,Qd2,h6,c4,Ne4,Qd3,Ba6,Qd4,O-O,Re1,Bxc4,Nc3,Nxc3,Qxc3,Rfe8,Qd4,Re7,Qc5,Rae8,Ne5,Ba6,Nxc6,Rd7,Rac1,Rc8,a4,Bc4,b5,Qf4,Ne7+,Kh7,Nxc8,Rc7,Qf8,d4,Nd6,d3,Nxc4,Rxc4,Rxc4,Qxc4,Qa3,d2,Rf1', 'Qxf1+,Kxf1,d1=Q#', 'https://lichess.org/training/x6m3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X6mcW', 'Blitz', 'NM batradz', 2274, 'Pido_gog', 2276, 'e4,Nf6,Nc3,d5,e5,d4,exf6,dxc3,bxc3,gxf6,g3,c5,Bg2,Nc6,Nf3,Qc7,d4,Bg4,h3,Bf5,Bf4,e5,dxe5,fxe5,Qe2,O-O-O,O-O,exf4,g4,Bd7,Rab1,Re8,Qc4,Be6,Qa4,Bg7,Ng5,a6,Rxb7,Qxb7', 'Bxc6,Qb6,Bxe8', 'https://lichess.org/training/X6mcW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X6p8U', 'Classical', 'snmgian', 1897, 'LAUTARO_CATRIEL', 2060, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bd6,O-O,O-O,Nc3,Nxc3,bxc3,Re8,Ng5,h6,Qh5,hxg5,Qh7+,Kf8,Qh8+,Ke7,Bxg5+,Kd7,Qh3+,Kc6,Bb5+,Kxb5,Qd3+,Kc6,Bxd8,Rxd8,Rfe1,Rh8,Rab1,Bxh2+,Kf1,Na6,Qb5+,Kd6,Re8,Bd7,Rxa8', 'Bxb5+,Rxb5,Rxa8', 'https://lichess.org/training/X6p8U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x6qIV', 'Classical', 'RamzanMathan', 2201, 'alfred1959', 2111, 'e4,c5,Bc4,Nc6,Nc3,a6,a4,e6,d3,d6,Nge2,Nf6,O-O,Be7,Ng3,O-O,h3,Ne5,Ba2,Ng6,f4,Bd7,f5,exf5,Nxf5,Bxf5,Rxf5,Ne5,Bg5,g6,Rf2,Nh5,Bxe7,Qxe7,Nd5,Qg5,Qc1,Qxc1+,Rxc1,Kh8,g4,Ng7,Rcf1,Ne6,Rf6,Kg7,Kg2,b5,Nb6,Ra7', 'Bxe6', 'https://lichess.org/training/x6qIV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x6tkE', 'Classical', 'seben14', 1839, 'steiger07', 1960, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,Bg4,O-O,Nd4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nxc2,Ne6,Qd7,f5,Nf6,Qd1,Nxa1,Nc3,Qc6,d3,Qb6,b3,c4+,Kh1,cxb3,axb3,Nxb3,Bg5,Rc8,Bxf6,Rxc3,Bxc3,Nc5,Qh5+,Kd7,Nxg7,Bxg7,Bxg7,Nxd3,Qe2,Rg8,Qxd3,Rxg7,e5,Qb2,e6+,Kd8,Qe4,Kc7,Rb1,Rg4,Rxb2,Rxe4,g3,b6,Kg2,a5,Kf3,Rc4,g4,d5,g5,Re4,h4,Rxh4,f6,exf6,e7,Kd7,gxf6,Rb4,Re2,Re4,Rd2,Re5,Kf4,Kd6,f7,Re4+,Kf5,Kxe7,Rxd5,Rb4,Rd7+,Kf8,Kf6,Rf4+,Ke6,b5', 'Rd8+,Kg7,Rg8+', 'https://lichess.org/training/x6tkE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X6V60', 'Blitz', 'FM Monterodecjhi', 2112, 'parasto123', 2129, 'd4,c6,d5,cxd5,Qxd5,Nf6,Qd2,d5,b3,Nc6,Bb2,Bf5,e3,e6,Bd3,Bxd3,cxd3,Rc8,Ne2,Be7,O-O,O-O,Na3,a6,Rac1,Qb6,Nc2,Rc7,Ncd4,Rfc8,Nxc6,Rxc6,Nd4,Rxc1,Rxc1,Rxc1+,Qxc1,h6,Qc8+,Kh7,h3,Qa5,Qxb7', 'Qe1+,Kh2,Bd6+', 'https://lichess.org/training/X6V60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x6VA8', 'Blitz', 'Slava_Lazarenko', 1833, 'dahoff', 1841, 'd4,Nf6,Bg5,e6,Bxf6,Qxf6,e4,d6,Nf3,Nd7,Nc3,c5,d5,e5,Nb5,Qd8,c4,a6,Nc3,b6,Bd3,Be7,a3,O-O,b4,cxb4,axb4,Bb7,O-O,Re8,b5,a5,Qd2,Nc5,Qe3,Qc7,Na4,Nxa4,Rxa4,Rac8,g3,h6,Nh4,Bxh4,gxh4,Qd7,Kh1,Rcd8,Rg1,Kh7,f4,exf4,Qxf4,f6,e5+,Kh8,e6,Qe7,Bg6,Qc7,Bxe8,Rxe8,Raa1,Re7,Rg6,Qc8,Rag1,Qxe6,Rxh6+,gxh6', 'Qxh6+,Rh7,Qf8+,Qg8,Rxg8#', 'https://lichess.org/training/x6VA8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X6XUi', 'Rapid', 'msdumaya', 1840, 'Russo1980', 1834, 'e4,e6,d4,d6,Nf3,h6,Bc4,a6,O-O,Nd7,Bb3,g5,c4,b6,e5,Bb7,Re1,Be7,exd6,cxd6,Be3,Ngf6,h3,Qc7,Nbd2,g4,hxg4,Nxg4,Rc1,Nxe3,Rxe3,Qd8,Ba4,Bg5,Nxg5,Qxg5,Bxd7+,Kxd7,Nf3,Qg4', 'Ne5+,dxe5,Qxg4', 'https://lichess.org/training/X6XUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x6xZO', 'Rapid', 'sl11235', 2057, 'Ivan1950', 2462, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Qe2,b5,Bb3,Be7,O-O,O-O,Rd1,d6,h3,Na5,d4,exd4,Rxd4,c5,Bd5,cxd4,Bxa8,Bxh3,Bd5,Bg4,Qd3,Nxd5,exd5,Bf6,Nxd4,Nc4,Nc3,Qb6,Nc6,Re8,Ne4,Bxb2,Bxb2,Nxb2,Qg3,Rxe4,Kh2,Bd7,Qxd6,Qxf2,Ne7+,Kh8', 'Qb8+,Bc8,Qxc8#', 'https://lichess.org/training/x6xZO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x6ylA', 'Rapid', 'Daksha', 1900, 'Saqibawan112', 1963, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e5,Nf5,Nf6,Bd3,d6,O-O,Nc6,Nc3,Be6,Bg5,Be7,Nxg7+,Kd7,Nxe6,fxe6,Na4,b5,Nc3,Nxe4,Bxe7,Nxc3,Bxd8,Nxd1,Bh4,Nxb2,Be2,d5,Bg3,e4,Bh4,Nd4,Bg4,Nxc2,Rac1,Na3,Bf6,Nd3,Bxh8,Nxc1,Bb2,Nxa2,Bxa3,Nc3,Rc1,Na4,Bb4,Nb6,Ba5,Nc4,Bc3,a5,Be2,a4,Bb4,a3,Bxc4,dxc4,Ra1,a2,Kf1,Kc6,Ke2,Kd5,Kd2,Ra4,Kc3,h5,h3,e5,g3,Ra6,Kb2,Ra4,Kc3,Ra6,g4,hxg4,hxg4,Ra8,g5,Ke6,Kb2,Ra4,Bd2,b4,Rxa2', 'c3+,Kb3,Rxa2', 'https://lichess.org/training/x6ylA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X6ZUd', 'Classical', 'xtpwlf', 1763, 'Balaz_Juraj', 1784, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bd6,Bg5,f6,Be3,Ne7,h3,Ng6,Nc3,Be6,d4,Qd7,d5,cxd5,exd5,Bf7,a3,O-O-O,Qd2,Rhe8,O-O-O,Nf4,Bxf4,exf4,Qd4,Kb8,Rhg1,Be5,Nxe5,fxe5,Qe4,Bg6,Qf3,Qf5,Qe2,Bh5,f3,e4,g4,fxg3,Rxg3,Bxf3,Qf2,Qf4+,Kb1,Qh4', 'Rxf3,Qxf2,Rxf2', 'https://lichess.org/training/X6ZUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X70BU', 'Classical', 'ReiPosto', 1614, 'Tronas', 1672, 'e4,e6,e5,d5,d4,c5,Nf3,cxd4,Nxd4,Nc6,Bb5,Bd7,Bxc6,bxc6,O-O,c5,Nf3,Ne7,Bg5,Qb6,b3,Ng6,Nc3,Bc6,Na4,Bxa4,bxa4,Be7,Rb1,Qa5,c4,d4,Bxe7,Nxe7,Ng5,O-O,Rb7,Nc6,Qh5,h6,Nxf7,Qd2,Qg6,Qf4,Ng5,Qxg5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/X70BU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X71UT', 'Rapid', 'LEANDRODF', 1870, 'dagome61', 2196, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d6,Be2,O-O,O-O,Nc6,c4,Nd7,Nc3,e5,dxe5,dxe5,Bg3,h6,Qc2,f5,h3,g5,Rad1,f4,exf4,exf4,Bh2,a5,Nd5,Ne7,h4,c6,Nc3,Nf5,hxg5,hxg5,Ne4,g4,Nfg5,g3,fxg3,fxg3,Bxg3,Nxg3,Rxf8+,Qxf8,Nxg3', 'Qc5+,Kh2,Qxg5', 'https://lichess.org/training/X71UT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x71WR', 'Bullet', 'dean_stone', 1559, 'BBaileyOH', 1623, 'e4,c5,Nf3,g6,Nc3,Bg7,d3,Nc6,a3,Nf6,Be2,O-O,g4,d5,h3,dxe4,Nxe4,Nxe4,dxe4,Qxd1+,Bxd1,b6,c3,Bb7,h4,Rfd8,h5,Ne5,Nxe5,Bxe5,hxg6,hxg6,f4,Bg7,Bf3,Rd3,Ke2,Rad8,f5,Ba6,Kf2,Bc4,fxg6,fxg6,Bg5,Kf7,Rh7,Rh8,Rxh8,Bxh8,Rh1,Bg7,Rh7,Kg8,Rh1,Be6,Bxe7,Rd2+,Ke3,Rxb2,Rd1,Bxc3,Rd8+,Kf7,Bg5,Be5,Ra8,Rb3+,Kf2,Bd4+,Kg3,Be5+,Kf2,Rxa3,Bc1,Ra2+,Ke3,g5,Kd3,c4+,Ke3,Bf4+,Kd4,Bxc1,Ke5,Bb2+,Kd6,c3,e5,c2,Rb8,c1=Q,Rb7+,Kg6', 'Be4+,Bf5,Bxf5+,Kh6,Rh7#', 'https://lichess.org/training/x71WR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x74ot', 'Rapid', 'amr222', 1674, 'Youssfdaddy', 1811, 'e4,d5,e5,d4,Nf3,Nc6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,d3,e6,c3,Bxf3,Qxf3,c6,Bd2,Nh6,Bxh6,gxh6,Qg4,Qg5,Qxd4,Rg8,g3,Rd8,Qe3', 'Qxe3,fxe3,Rxd3', 'https://lichess.org/training/x74ot');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X75AE', 'Blitz', 'kimung', 1850, 'ghodratpakideh', 1779, 'e4,b6,Nf3,Bb7,Nc3,g6,Bc4,Bg7,d4,Nc6,Be3,e6,O-O,Qe7,Re1,O-O-O,d5,Ne5,Nxe5,Bxe5,f4,Bxc3,bxc3,Nf6,Bf2,h5,e5,Ng4,d6,cxd6,exd6,Qf8,Bd4,f6,Qe2,Qh6,Ba6,Qxf4', 'Qc4+,Kb8,Qc7+,Ka8,Qxb7#', 'https://lichess.org/training/X75AE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x76eV', 'Rapid', 'Llampek', 2092, 'ethansam', 2033, 'c4,Nf6,g3,g6,Nc3,Bg7,Bg2,O-O,e4,d6,Nge2,Nc6,O-O,a6,d3,Rb8,a4,a5,h3,Nb4,Be3,e5,g4,c6,d4,Nd7,f4,Qe7,f5,exd4,Bxd4,Bxd4+,Nxd4,Ne5,f6,Qc7,Qd2,Kh8,Qh6,Rg8,g5,Qd8,Rf4,Qf8', 'Qxh7+,Kxh7,Rh4+,Qh6,Rxh6#', 'https://lichess.org/training/x76eV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X78KL', 'Rapid', 'Islam28032009', 1646, 'GARMIN', 1877, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Nc3,Bc5,d3,h6,Bd2,a6,a4,d6,O-O,Bg4,h3,Bh5,Re1,O-O,g4,Bg6,Nh4,Bh7,Qc1,Nd7,Nf5,Bxf5,exf5,Qh4,Be3,Nd4,Kg2,Nf6,Ne4,Nxe4,dxe4,h5', 'Bg5,Qxf2+,Kxf2', 'https://lichess.org/training/X78KL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X791S', 'Blitz', 'GM Elda64', 2676, 'FM pascalka0409', 2730, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,b6,Qb3,c5,a3,Bxc3+,bxc3,Nc6,Bg5,h6,Bh4,d6,e3,O-O,Bd3,Na5,Qa2,Ba6,Qe2,Rc8,d5,g5,Nxg5,hxg5,Bxg5,Kg7,Qf3,Rh8,h4,Bxc4,Bxc4,Nxc4,Rh3,Ne5,Qe2,Qe7,f4,Ned7,Rd1,Rcg8,c4,exd5,Rxd5,Qe6,f5,Qe4,Rxd6,Qb1+,Rd1,Qxf5,Rf3,Qe6,Qb2,Rd8,Rxd7,Qxd7,Bxf6+,Kh7,Bxh8', 'Qd1+,Kf2,Rd2+', 'https://lichess.org/training/X791S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X7DL5', 'Classical', 'imaga', 1700, 'Patriottt', 1729, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Bg4,O-O,Bxf3,Rxf3,Nf6,d3,Be7,Bxf4,Nc6,Rg3,Rg8,Nc3,a6,Qd2,Na5,Bb3,Nxb3,axb3,Nh5,Rh3,Nxf4,Qxf4,Bg5,Qf3,h6,Rf1,Rf8,Nd5,c6,Nf4,Qf6,Nh5,Qxb2,e5,O-O-O,Nxg7,Qxc2,d4,dxe5,Qf5+,Kb8,Qxe5+,Ka8,Rhf3,Rg8,Rxf7,Qxb3,Qc7,Be3+,Kh1,Bxd4,Ne6,Qb2,g3,Qb6,Qxb6,Bxb6,Nxd8,Rxd8,Rb1,Ka7,Re1,h5,Ree7,Rb8,Kg2,a5,Rh7,h4,Rxh4', 'Bd8,Rhh7,Bxe7', 'https://lichess.org/training/X7DL5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X7JZa', 'Classical', 'Andryuhan', 1689, 'stochastics', 1724, 'e4,Nf6,Nc3,Nc6,f4,e6,e5,Nd5,Nf3,Nxf4,d4,Nd5,Nxd5,exd5,Be2,d6,O-O,Bg4,Bg5,Be7,Bxe7,Qxe7,Qe1,Rd8,exd6,Rxd6,c3,Re6,Rf2,O-O,Ne5,Bxe2,Rxe2,Nxe5,Rxe5,Re8,Rxe6,Qxe6,Qg3,Qb6,Re1,Rxe1+,Qxe1,Qe6,Qg3,Qd6,Qe3,Kf8,h3,f6,Qd3,g6,Qb5,Qc6,Qd3,a6,Qd2,Qe6,Qh6+,Kg8,Qf4,Qd6,Qe3,g5,Qd3,Qf4,c4,Qc1+,Kh2,Qxc4,Qa3,Kf7,Qg3,Kg6,Qe3,Qxa2,Qe8+,Kf5,Qd7+,Ke4,Qg4+,Kd3,Qd1+,Kc4,Qc2+,Kxd4,Qd2+,Kc5', 'b4+,Kd6,Qxa2', 'https://lichess.org/training/X7JZa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x7MpR', 'Bullet', 'sber1', 2809, 'IM AngelitoRT', 2875, 'd4,d5,Nf3,Nf6,c4,dxc4,e3,e6,Bxc4,a6,O-O,c5,dxc5,Bxc5,Qe2,O-O,e4,Nc6,e5,Nd7,Nc3,Qc7,Bf4,Nd4,Nxd4,Bxd4,Rfe1,Bxe5,Bxe5,Nxe5,Bb3,Ng6,Rac1,Qe7,g3,b5,Nd5,Qd8,Nc7,Ra7,Red1,Qe7,Qc2,Ne5,Nd5,exd5,Qxc8,Nf3+,Kg2,Qe4,Bxd5,Nh4+,Kh3,Qg6,gxh4,h5,Qc5', 'Qg4#', 'https://lichess.org/training/x7MpR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X7Pda', 'Blitz', 'Huntsman97', 1685, 'Mat2212', 1729, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,c4,Nf6,Nc3,e6,d4,cxd4,Qxd4,Be7,Bg5,Nc6,Qd1,O-O,Bxf6,Bxf6,e5,Nxe5,Nxe5,Bxe5,O-O,Qc7,f4,Bxc3,bxc3,Qxc4,Qxd6,Qxc3,f5,Rad8,Qe7,exf5,Qxb7,Qc5+,Kh1,Rd2,Rac1,Qd4,Rxf5,Rxa2', 'Qxf7+,Rxf7,Rc8+,Qd8,Rxd8+,Rf8,Rdxf8#', 'https://lichess.org/training/X7Pda');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x7Pjg', 'Rapid', 'minatovich', 2108, 'Almani1979', 2170, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,g3,g6,Bg2,Bg4,h3,Nc6,hxg4,Nxg4,O-O,O-O-O,d3,h5,Bf4,e5,Bd2,f6,b4,g5,b5,Nd4,Ne4,Qd7,Nxd4,Qxd4,Bh3,f5,Nxg5,Rd7,Ne6,Qd5,Nxf8,Rxf8,Qe2,e4,Bb4,Re8,a4,e3,Bxg4,hxg4,fxe3,Rh7,Qg2,Qe5,Rae1,Rh3,Kf2,Qb2,Bc5', 'Qxc2+,Kg1,Qxc5', 'https://lichess.org/training/x7Pjg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X7PnE', 'Blitz', 'dany_gol', 1634, 'geor', 1568, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Bb4+,Nc3,Nc6,Ne2,a6,a4,Nf6,Bg5,h6,Bxf6,Qxf6,O-O,O-O,d5,exd5,Nxd5,Qg5,f4,Bc5+,Kh1,Qg6,Nec3,Bg4,Qb3,Nd4,Qxb7,Ne2,b4', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/X7PnE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X7SqW', 'Blitz', 'Paavo87', 2521, 'FM munster1', 2485, 'e4,c5,c3,Nf6,e5,Nd5,Nf3,e6,Bc4,d6,d4,cxd4,cxd4,Nc6,O-O,dxe5,dxe5,Qc7,Qe2,Be7,Qe4,Nb6,Bd3,Nb4,Bb5+,Bd7,Bxd7+,Qxd7,Nc3,N4d5,Rd1', 'Nxc3,Rxd7,Nxe4', 'https://lichess.org/training/X7SqW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x7vBQ', 'Rapid', 'Trip5s', 2041, 'kaliostrro', 2009, 'Nf3,Nf6,g3,e6,Bg2,d5,O-O,c5,d3,Be7,Nbd2,O-O,c3,Nc6,Qc2,e5,e4,Bg4,h3,Bh5,a4,Re8,Re1,Qc7,exd5,Nxd5,Nc4,Bf6,Nfxe5,Nxe5,Bxd5', 'Nf3+,Bxf3,Rxe1+', 'https://lichess.org/training/x7vBQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x7xbb', 'Rapid', 'soumenchatterjee58', 2053, 'alexolll57', 2199, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,O-O,Bd7,h3,Be7,d3,O-O,Be3,a6,Bxc6,Bxc6,Qd2,b5,a3,Re8,Rad1,h6,Ne2,Kh7,Ng3,Bf8,Nf5,d5,exd5,Nxd5,Rfe1,Qf6,Ng3,Nxe3,Rxe3,Bc5,Ne4,Bxe4,Rxe4,Rad8,Qc3,Qb6,Qe1,f6,b4,Bd6,Nh4,c5,Nf5,Bf8,Qe2,g6,Ng3,cxb4,axb4,Bd6,h4,f5,Nxf5,gxf5,Re3,Qd4,Qh5,Qg4,Qf7+,Kh8,Qf6+,Kg8', 'Rg3,Qxg3,fxg3', 'https://lichess.org/training/x7xbb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x7xe3', 'Rapid', 'Bernaldo', 1730, 'Ra77', 1687, 'd4,e6,Nf3,c6,c4,d5,Nc3,Bb4,Bg5,Ne7,e3,h6,Bh4,O-O,Bd3,Bd7,O-O,Qe8,cxd5,cxd5,Qb3,Bxc3,bxc3,b6,c4,Ng6,Bg3,dxc4,Bxc4,Ne7,Bd6,Nbc6,Qd3,Na5,Ba6,Bc6,Rac1,Bxf3,gxf3,f5,Rc7,Rf7,Rfc1,Nd5,e4,Rxc7,Bxc7,Qg6+,Kf1,Ne7,Be5,Nac6,exf5,Nxe5,dxe5,Nxf5,Qd7,Nh4,Ke2,Nxf3,Kxf3,Rf8+,Ke2,Qe4+,Kd1,Qf3+,Be2,Qxf2,Qxe6+,Kh7,Bd3+,Kh8,Qg6,Qf3+,Be2,Qd5+,Qd3,Qh1+,Kc2', 'Rc8+,Kb3,Qxc1', 'https://lichess.org/training/x7xe3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X7xSp', 'Rapid', 'sickboy74', 1681, 'II-Fenrir-II', 1868, 'e4,Nc6,Bb5,a6,Bxc6,bxc6,d4,d5,e5,Bf5,Nf3,e6,O-O,c5,c3,cxd4,cxd4,c5,Qa4+,Qd7,Qxd7+,Kxd7,Nc3,Rb8,Ng5,Nh6,Nf3,Rg8,Na4,cxd4,Nxd4,Be4,Nc5+,Bxc5,Nb3,Ba7,Bg5,Nf5,Rac1,f6,exf6,gxf6,Bxf6,Rxg2+,Kh1,Rg6+,f3,Rxf6,fxe4,dxe4,Rfd1+,Ke8,Rc7,Bb6,Rxh7,e3,Rh8+,Ke7,Rxb8,e2,Re1,Nd4,Rxb6', 'Rf1+,Kg2,Rxe1', 'https://lichess.org/training/X7xSp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X82hK', 'Rapid', 'Elbess', 2058, 'mayspb', 1913, 'd4,b6,Nc3,Bb7,Bf4,Nf6,f3,d6,e4,Nbd7,h4,e5,dxe5,Nxe5,Bb5+,c6,Ba4,b5,Bb3,a5,a4,b4,Nce2,Be7,g4,O-O,Qd2,Nxe4,fxe4,Bxh4+,Bg3,Bg5,Bf4,Be7,O-O-O,c5,Bxe5,dxe5,Qe3', 'Bg5,Rxd8,Bxe3+', 'https://lichess.org/training/X82hK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X895L', 'Rapid', 'CaglarS', 1673, 'muffin6228', 1718, 'e4,e5,Nf3,Bc5,Bc4,d6,d4,exd4,Nxd4,Qf6,c3,Nc6,Be3,Nh6,h3,Be6,Bb5,O-O-O,Nxc6,bxc6,Ba6+,Kb8,Bxc5,dxc5,Qe2,Qg5,Nd2,f5,O-O-O,Rhe8,Kb1,Bd5,f3,fxe4,fxe4,Bf7,Rhe1,Bg6,Ka1,Nf7,Qf3', 'Rxd2,Rxd2,Qxd2,Qd1,Qxd1+', 'https://lichess.org/training/X895L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x89o1', 'Rapid', 'mauro0108', 1680, 'fjachess', 1793, 'e4,e5,a3,Nf6,Nc3,Bc5,h3,O-O,Bc4,Nc6,d3,h6,Nge2,d6,O-O,Be6,Nd5,Ne7,Nxf6+,gxf6,Bxe6,fxe6,c3,Kh7,d4,exd4,cxd4,Bb6,Qd3,e5,Be3,Ng6,d5,Qe7,Bxb6,axb6,b4,Rg8,f4,Nh4,Rf2,Qd7,Raf1,Qg7,fxe5,dxe5,Kh2,Raf8,Ng3,Ng6,Nh5,Nf4,Nxf4,exf4,e5+,f5,e6', 'Qg3+,Qxg3,fxg3+,Kg1,gxf2+', 'https://lichess.org/training/x89o1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x8aA9', 'Rapid', 'Rafus3353', 1807, 'blacklung', 1698, 'd4,c5,c4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,e5,a3,Be7,e3,O-O,Bd3,d6,Nge2,Bg4,h3,Bh5,Qc2,Bxe2,Nxe2,g6,Ng3,Re8,Qb3,Na5,Qc3,Rc8,Bd2,Nc6,b3,Bf8,Qc2,Ne7,Bc3,Bg7,O-O,Qc7,Qb2,Nd7,Rfc1,Nc6,Ne4,Nf6,Qd2,Nxe4,Bxe4,Rcd8,Qb2,f5,Bd5+,Kh8,Rd1,Ne7,Ba5,b6,Bb4,Nxd5,Rxd5,e4,Bc3,Bxc3,Qxc3+,Qg7,Qxg7+,Kxg7,Rad1,Kf7,b4,Ke6,R5d4,Re7,c5,bxc5,bxc5,d5,Ra4,Rc8,Ra6+,Kf7,Rxd5,Rec7,Ra5,Ke6,Rd4,Rxc5,Rxa7,Rc1+,Kh2,R1c7,Ra6+,Kf7,Rda4,Kg7,Ra7,Kh6,R4a6,Rc2,Ra8,Rxa8,Rxa8,Rxf2,Kg3,Rd2,h4,Kh5,Ra7,h6,Ra5,Rd3,Kh3,Rxe3+,g3,Rd3,a4,e3,Re5,Ra3,a5,g5,Rxf5,Ra2,Re5,e2,g4+,Kg6,h5+,Kf6,Re3', 'Ra3,Rxa3,e1=Q', 'https://lichess.org/training/x8aA9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8BHD', 'Rapid', 'auto90', 1911, 'Lukyno', 1986, 'e4,e6,d4,d5,exd5,Qxd5,c4,Qe4+,Be3,Nf6,Nc3,Bb4,Qa4+,Nc6,a3,Bxc3+,bxc3,Bd7,Qb3,Ng4,Qxb7,Rb8,Qxc7,Nxe3,fxe3,Qxe3+,Ne2,Rb2,Qf4', 'Rxe2+,Bxe2,Qxf4', 'https://lichess.org/training/X8BHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x8bOS', 'Classical', 'Riku_G', 2063, 'Yumste99', 1980, 'e4,e6,Qe2,c5,Nf3,Nc6,g3,Be7,Bg2,d5,d3,Nf6,O-O,O-O,Bg5,d4,Nbd2,b5,Nh4,e5,f4,Ng4,Bxe7,Qxe7,Rf3,Ne3,Nf1,Bg4,Nxe3,dxe3,Qxe3,Bxf3,Bxf3,Nd4,Nf5,Nxf3+,Qxf3,Qe6,Qg4,g6,Nh6+,Kg7,Nf5+,Kh8,Ne3,Qxg4,Nxg4,exf4,gxf4,f5,exf5,Rxf5,Re1,Rxf4,Nf2,Raf8,Ne4,c4,Nc5,Rf2,Nd7,R8f7,Ne5,R7f6,Ng4,R2f4,Nxf6,Rxf6,d4,Ra6,a3,c3,Re5', 'cxb2,Rxb5,Rb6,Rxb2,Rxb2', 'https://lichess.org/training/x8bOS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8cfw', 'Rapid', 'DenisDe13', 1739, 'Borja010', 1652, 'c4,e5,Nc3,Nc6,a3,Nf6,d3,Bc5,e3,a6,b4,Ba7,Be2,d6,Bb2,Be6,Nf3,Qd7,Ng5,O-O-O,h3,h6,Nxe6,Qxe6,b5,axb5,Nxb5,h5,Nxa7+,Nxa7,a4,g5,a5,g4,h4,g3,f3,Nd7,f4,exf4,Bxh8,Rxh8,e4,f5,Bf3,fxe4,Bxe4,Nc5,Qf3,Qe5,Rb1,Qc3+,Kf1,Qxa5,Qxf4,Qc3,d4,Nxe4,Qxe4,Qxc4+,Kg1,b6', 'Qa8+,Kd7,Qxh8', 'https://lichess.org/training/X8cfw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8ee3', 'Rapid', 'Rostik05', 2186, 'multiaccounting', 2182, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Nxe4,Re1,d5,Bxd5,Qxd5,Nc3,Qd8,Nxe4,Be7,Bg5,O-O,Bxe7,Qxe7,Nxd4,Nxd4,Qxd4,Be6,Nc5,Rfd8,Qe5,Rd5', 'Qxd5,Bxd5,Rxe7', 'https://lichess.org/training/X8ee3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x8Fek', 'Rapid', 'Sofia2013', 1765, 'FredGamer0311', 1700, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e5,Nf3,Nf6,Nc3,Bb4,Qc2,exd4,e5,Qe7,Be2,Nxe5,Nxe5,Qxe5,O-O,dxc3,bxc3,Bxc3,Rb1,O-O,Be3,Bd4,Bxd4,Qxd4,Rfd1,Qe4,Qd2,Re8,Bf3,Qg6,g3,Ne4,Re1,f6,Qe2,d5,Rbd1,Bh3,Qd3,Bg4,Bxg4,Qxg4,f3,Nc5', 'Qxd5+,Qe6,Rxe6', 'https://lichess.org/training/x8Fek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8flA', 'Rapid', 'funnyopening', 1903, 'sans-c', 1910, 'd4,d5,Nc3,c6,e4,dxe4,Nxe4,Nf6,f3,e6,Bg5,Be7,Qd2,O-O,O-O-O', 'Nxe4,Bxe7,Nxd2,Bxd8,Nxf1', 'https://lichess.org/training/X8flA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x8Ith', 'Rapid', 'syllog1sm', 1862, 'halit120', 1813, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Ne7,Nc3,Nbc6,Bc4,Ne5,Bb3,g6,O-O,Bg7,f4,Ng4,f5,gxf5,exf5,Nf6,Bg5,c5,Ne6,fxe6,fxe6,Qb6,Bxf6,c4+,Kh1,Bxf6,Rxf6,cxb3,Qh5+,Kd8,cxb3,Qe3,Qf7,Re8,Rd1,Bd7,Nd5,Nxd5', 'Qxd7#', 'https://lichess.org/training/x8Ith');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8lCu', 'Rapid', 'QueenForAKing', 2086, 'Nayadu', 2169, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,dxc4,e4,b5,e5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be7,exf6,Bxf6,Bxf6,Qxf6,g3,Na6,Bg2,Bb7,Nxb5,O-O-O,Nxa7+,Kb8,Nxc6+,Bxc6,Bxc6,Nb4,Be4', 'Rxd4,Qa4,Rxe4+', 'https://lichess.org/training/X8lCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x8ljP', 'Rapid', 'Lumn', 1856, 'marcveidt', 1688, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,Bc4,Be6,Bb3,Bxb3,axb3,c6,O-O,Be7,e5,dxe5,Qxe5,O-O,Be3,Ng4,Qf4,Nxe3,Qxe3,Bf6,Rxa7,Rxa7,Qxa7,b6,Rd1,Qb8,Qd7,Rd8,Qxc6,Rxd1+,Nxd1,Bxb2,Nxb2,h6,g3,Qe5,Nc4,Qe1+,Kg2,h5,Qxb6,Qe4+,f3,Qxc2+,Kh3,Qf5+,g4', 'Qxf3+,Kh4,Qxg4#', 'https://lichess.org/training/x8ljP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8MAZ', 'Rapid', 'Belito2013', 1963, 'pergi', 1813, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,Bc5,O-O,O-O,d3,Bd7,a4,Re8,c3,Qf6,b4,Bd6,b5,Ne7,d4,exd4,cxd4,Rab8,Bg5,Qe6,Re1,Ng6,h3,f6', 'Bxg6,Qxe1+,Nxe1', 'https://lichess.org/training/X8MAZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8pOS', 'Blitz', 'neo06', 1822, 'mohammad1983', 1839, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,O-O,d6,Nc3,Be6,Nd5,Bxd5,exd5,Ne7,d4,exd4,Nxd4,Bxd4,Qxd4,O-O,Bg5,Nd7,Rfe1,Ne5,Bxe7,Qxe7,f4,c5,Qc3,b5,Bf1,b4,Qd2,Nf3+,gxf3,Qf6,c3,bxc3,bxc3,Rfe8,Bg2,Rxe1+,Rxe1,g6,Qe3,Rb8,Qd2,Kf8,Bh3,a5,Bd7,Rb7,Bc6,Rb8,Qe3,h5,Qd2,Qf5,Re3,Rb1+,Kg2,Kg7,Qd3,Rb2+,Kg3,Qc8,c4,Rxa2,Qc3+,Kh6,Re8', 'h4+,Kxh4,Rxh2+,Kg3,Qh3#', 'https://lichess.org/training/X8pOS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x8pvE', 'Rapid', 'kom111', 1641, 'Jstei29', 1604, 'e4,c5,Nf3,e6,d4,d5,Nc3,Nc6,exd5,exd5,Bb5,a6,Bxc6+,bxc6,O-O,Nf6,Bg5,Be7,Ne5,Bb7,Re1,O-O,Bxf6,Bxf6,dxc5,Re8,Qh5,Qc7,Ng4,Bxc3,bxc3,Qa5,Re3,Rxe3,Nxe3,Qxc3,Rf1,Qxc5,Ng4,Qxc2,f4,a5,f5,Ba6,Ne3,Qe4,Qf3,Bxf1,Qxe4,dxe4,Nxf1,f6,Kf2,Kf7,Ke3,Re8,g4,g6,Ng3,gxf5,gxf5,c5,Nxe4,c4,Kd4,Rxe4+,Kxe4,Ke7,Kd4,Kd6,Kxc4,Ke5,Kb5,Kxf5,Kxa5,Ke5,a4,f5,Kb4,f4', 'Kc3,Ke4,Kd2', 'https://lichess.org/training/x8pvE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x8QEu', 'Rapid', 'fadlychan', 1726, 'Atmaca33', 1672, 'e4,e5,Nf3,Nc6,Bb5,d6,c4,a6,Ba4,Bd7,Nc3,Nb4,Bxd7+,Qxd7,d4,Qg4,O-O,exd4,Nxd4,Qxd1,Rxd1,O-O-O,a3,Nc6,Nxc6,bxc6,b4,h5,b5,cxb5,cxb5,g5,bxa6,Kb8,Rb1+,Ka7,Rd4,Bg7,Rdb4,Bxc3,Rb7+,Kxa6,Be3,Ba5', 'Ra7#', 'https://lichess.org/training/x8QEu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x8RtN', 'Classical', 'Havana0', 1787, 'Olaf_14', 1915, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,O-O,d6,d3,Nf6,Ng5,d5,Bb3,Bd6,Nc3,O-O,h3,c6,Re1,Bf5,Ne2,h6,Nf3,e4,Nfd4,Bh7,a3,a6,dxe4,Nxe4,c3,Nd7,Bc2,Nb6,Qd3,Nc4,Nf3,Bc5,Ned4,Ng5,Qd1,Ne4,Nd2,Qf6,Nxe4,dxe4,Bxe4,Rad8', 'Bxh7+,Kxh7,Qd3+,Kg8,Qxc4,Bxd4,cxd4', 'https://lichess.org/training/x8RtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x8URP', 'Rapid', 'LeviAckermann121', 2153, 'Salangas', 2274, 'd4,d5,c4,c6,Nf3,Nf6,g3,Bf5,Bg2,Bxb1,Rxb1,Qa5+,Bd2,Qxa2,Ra1,Qxc4,Ra5,Ne4,O-O,Nxd2,Qxd2,Qb3,Qf4,Qb6,Rfa1,e6,Rxa7,Rxa7,Qxb8+,Qd8,Qxd8+,Kxd8,Rxa7,Kc7,Ne5,f6,Nd3,Bd6,Nc5,Bxc5,dxc5,e5,e3,Rd8,Kf1,d4,exd4,exd4,Ke2,d3+,Kd2,Rd4,Bf1,Rb4,Ra2,Rb5,Bxd3,Rxc5,Bxh7,Rh5,Be4,Rxh2,Ke3,g5,Ra1,Rh8,Rd1,Re8,Kf3,Re5,g4,Rb5,Rd2,Rb3+,Ke2,c5,Rc2,Kd6,f3,b5,Kd2,c4,Kc1,Kc5,Rc3,Rb4,b3,Kd4,Rc2,Rxb3,Rd2+,Kc5,Rd5+,Kb4,Rf5,Kc3,Rxf6,Ra3,Rb6,b4,Rb5,b3,Rxg5', 'Ra1+,Bb1,b2+', 'https://lichess.org/training/x8URP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8wE3', 'Rapid', 'dkve', 1794, 'RookoutMate', 1687, 'e4,g6,d4,Bg7,c3,c6,Nf3,d5,e5,e6,Bd3,Ne7,Bg5,O-O,O-O,f5,exf6,Bxf6,Bxf6,Rxf6,Ne1,Nd7,Qg4,e5,dxe5,Nxe5,Qd4,Qd6,Nd2,Nxd3,Nxd3,Nf5,Qg4,Nh6,Qg5,Kg7,Nf3,Ng4,Nde1,Be6,h3,Nh6,Qe5,Qxe5,Nxe5,Rf5,N1f3,Raf8,a3,Nf7,Ng4,h5,Ngh2,Ne5,Rae1,Nxf3+,Nxf3,Bc8,h4,Kh6,Ng5,b6,g3,Ba6,Re7,Rxg5,hxg5+,Kxg5,Rfe1,h4,gxh4+,Kxh4,Rxa7,Bd3,Rh7+,Kg5,Re6,Rf4,Rxc6,Rg4+,Kh2,Be4,Rh3,Rg2+,Kh1,Rxf2+,Kg1,Rg2+,Kf1,Rxb2,Rg3+,Kf5,Rh3,Rb1+,Ke2,Rb2+,Ke3,Rb3,Rh6', 'd4+,Kxd4,Bxc6', 'https://lichess.org/training/X8wE3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8wZK', 'Rapid', 'Rashidov', 1879, 'Persej', 1917, 'd4,e6,c4,d5,Nf3,Nf6,e3,c6,Bd2,Nbd7,Nc3,Be7,cxd5,exd5,Bd3,O-O,O-O,c5,Rc1,c4,Bb1,Nb6,Ne2,Bg4,Ne5,Bh5,h3,Bd6,f4,Na4,Qxa4,Bxe2,Rf2,Bh5,g4,Bxe5,fxe5,Nxg4,hxg4,Bxg4,e4,Qh4,exd5,Bh3,Qd1', 'Qg3+,Kh1,Qxf2', 'https://lichess.org/training/X8wZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8XmV', 'Rapid', 'melloyellow', 1696, 'chm1948', 1779, 'd4,Nf6,Nf3,d5,c4,e6,Nc3,c6,Bg5,Be7,cxd5,Nxd5,Bxe7,Nxe7,e4,O-O,Bd3,b6,O-O,Ba6,Bxa6,Nxa6,a3,Nc7,Qc2,Ng6,Rfd1,Qe7,Re1,c5,d5,Qd7,Rad1,e5,Ne2,Qd6,Ng3,Ne7,Qc3,f6,Nh4,g6,Qf3,Nb5,Qg4,Nd4,Nh5,Rf7,Qg3,Raf8,f4,Kh8,fxe5,fxe5,Nf3,gxh5,Nxe5,Rg7', 'Nf7+,Rfxf7,Qxd6', 'https://lichess.org/training/X8XmV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8yD8', 'Classical', 'kiwifrog', 1921, 'pankaj_kumar', 1823, 'e4,Nc6,d4,e5,Nf3,exd4,Bc4,Nf6,O-O,Be7,Re1,d6,h3,O-O,Nxd4,a6,Nxc6,bxc6,Nc3,Nd7,Be3,Nb6,Bb3,Be6,Qe2,Bf6,Qd3,c5,Bd5,c4,Qd2,Rb8,Rab1,Nxd5,exd5,Bf5,g4,Bg6,f4,h6,f5,Bh7,Bd4,Bg5,Qe2,Bh4,Rf1,Qg5,Qxc4,Rfe8,Bf2,h5,Ne4,Bxf2+,Nxf2,hxg4,hxg4,Bxf5,b3,Bd7,Rfe1,Rxe1+,Rxe1,Rc8,Kg2,Qd2,Re2,Qg5,Kg3', 'Bb5,Qe4,Bxe2', 'https://lichess.org/training/X8yD8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8YTD', 'Blitz', 'pochchta', 1915, 'Berserk_91', 1914, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bb4,Nxc6,bxc6,Qd4,Bxc3+,Qxc3,Nf6,Bg5,Nxe4,Qxg7,Qxg5,Qxh8+,Ke7,Rd1,Bb7,Qd4,c5,Qxd7+,Kf6,Qxb7,Qf4,f3', 'Qe3+,Be2,Qf2#', 'https://lichess.org/training/X8YTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X8YWU', 'Classical', 'mrdcool1', 1603, 'FixUrFace', 1626, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Nc3,e5,Qd3,Nf6,Bg5,Be7,O-O-O,b6,Bxf6,gxf6,f4,Bb7,g3,f5,exf5,Bxh1,Bh3,Bb7,fxe5,dxe5', 'Qb5+,Kf8,Rxd8+', 'https://lichess.org/training/X8YWU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X92oY', 'Rapid', 'MariuszSlo', 1901, 'Akbar_R', 1789, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,h3,Nd4,Qd3,d5,Bb3,dxe4,Qc3,a5,Ne2,Bb4,Qe3,Bc5,Qc3,b6,Nxd4,exd4,Qc4,Be6,Qb5+,Bd7,Qc4,O-O,O-O,Be6,Qe2,Bf5,a3,Re8,c3,Nd5,Qc4,c6,d3,exd3,cxd4,Be7,Qxc6,Nf6,Bg5,Rc8,Qf3,Qxd4,Nc3,Kg7,Rad1,h6,Be3,Qh4,Rd2,Be4,Nxe4,Qxe4,Qxe4,Nxe4,Rxd3,Rcd8,Bd4+,f6,Rfd1,Nc5,Bxc5,Rxd3,Bxe7,Rxd1+,Bxd1,Rxe7,Kf1,Rd7,Ke2,Re7+,Kf3,Rc7,Ke2,Rc1,Kd2,Rc7,b3,Rc5,a4,Rf5,Bf3,g5,Kd3,Kg6,Be4,h5,Bxf5+,Kxf5,Ke3,g4,h4,Ke5,g3,Kd5,Kf4,Kd4,Kf5,Kc3,Kxf6,Kxb3,Kg5,Kxa4,Kxh5,b5,Kxg4,b4,h5,b3,h6,b2,h7,b1=Q,h8=Q,Qe4+,Kh3', 'Qh1+,Kg4,Qxh8', 'https://lichess.org/training/X92oY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X94pt', 'Classical', 'GrindersBerserk', 1702, 'Ahmed-Elshenawy', 1666, 'd4,d5,Bf4,Nc6,Nc3,Nf6,Nb5,Kd7,g3,e6,Bxc7,Qe8,Bf4,e5,dxe5,Nxe5,Bh3+,Kc6,Nd4+,Kc7,Ngf3,Bd6,Nb5+,Kc6,Nxd6', 'Nxf3+,Kf1,Bxh3#', 'https://lichess.org/training/X94pt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x96kv', 'Rapid', 'Tigerle', 1630, 'borma', 1642, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e6,Bxc4,Bb4,Qd3,O-O,Bg5,Bxc3+,bxc3,h6,Bh4,Qe8,Bg3,c6,Nf3,Nbd7,Bd6,b5,Bb3,a5,Bxf8,Qxf8,e5,Nd5,O-O,Nf4,Qe4,g5,Bc2,Qg7,Qxc6,Rb8,Rab1,Ne2+,Kh1,g4,Ng1,Nxg1,Kxg1,Nf8,Rxb5,Bd7,Qe4,Rxb5,a4,Rb6,c4,Bc6,d5,exd5,cxd5,Bb7,Rb1,Rxb1+,Bxb1,Nd7,e6,Nc5,e7,Nxe4,e8=Q+,Qf8,Qxf8+,Kxf8,Bxe4,Ke7,f3,gxf3', 'd6+,Kxd6,Bxb7', 'https://lichess.org/training/x96kv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x9cN9', 'Blitz', 'dimochka_tsoi', 2582, 'FM Lioni26', 2421, 'f4,d6,Nf3,Nd7,d3,e5,e4,g6,Be2,Bg7,O-O,Ne7,f5,gxf5,Nh4,f4,g3,Ng6,Nf5,Bf6,Bh5,Ndf8,Nc3,Be6,Nd5,Bxd5,exd5,c6,gxf4,Nxf4,Bxf4,exf4,Re1+,Kd7,c4,c5,Qa4+,Kc7,b4,Bxa1,bxc5,Be5,d4,Qg5+,Kh1,Qxh5,Qa3,Qxf5,dxe5,dxe5,Qa5+,b6,cxb6+,axb6,Qxa8,f3,Qc6+,Kd8,Qxb6+,Ke8', 'Qb8+,Ke7,Rxe5+', 'https://lichess.org/training/x9cN9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x9cQi', 'Rapid', 'boia', 2059, 'Im2Difficult4U', 1897, 'Nf3,Nc6,g3,e5,d3,d5,Bg2,Be6,O-O,Qd7,c3,f6,b4,a6,a4,Bh3,Nbd2,h5,c4,h4,Nxh4,Rxh4,gxh4', 'Qg4,e3,Qxg2#', 'https://lichess.org/training/x9cQi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x9DfY', 'Blitz', 'IM MassterofMayhem', 2579, 'Paul_Morphy1857', 2012, 'e4,e5,f4,exf4,Bc4,Nc6,Nf3,Bc5,d4,Bb6,Bxf4,Nf6,Nc3,O-O,Bg5,Re8,O-O,d6,Nd5,Rxe4,Bxf6,gxf6,c3,Bg4,Nd2,Bxd1,Nxe4,Nxd4,cxd4,Bxd4+,Kh1,c6', 'Ndxf6+,Bxf6,Nxf6+', 'https://lichess.org/training/x9DfY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x9E0S', 'Rapid', 'MaxTheMeme', 2022, 'chesstom2020', 1975, 'b3,e5,Bb2,f6,e3,d5,Qh5+,g6,Qh4,Be7,f4,Nc6,Bb5,Bd7,Nc3,a6,Bxc6,Bxc6,Nf3,exf4,Qxf4,Bd6,Qh4,Be7,Nd4,f5,Qf4,Nf6,Ne6,Nh5,Nxd8,Nxf4,Nxc6,Nxg2+,Kf2,bxc6,Kxg2,Bf6,h4,Rf8,h5,g5,Raf1,Be5,d4,Bd6,Ne2,Kd7,Rf2,Rae8,Bc1,Re4,Kf1,f4,exf4,Bxf4,Nxf4,gxf4,c3,f3,Rh3,Rfe8,Bd2,Re2,Rhxf3,Rxf2+,Rxf2,Re7,Bg5,Rg7,Rf5,Ke6,Re5+,Kd6,Bh6,Rf7+,Ke2,Rf6,Bf8+,Rxf8,Re3,Rf6,Rf3,Rh6,Rf5,c5,Kd3,cxd4,cxd4,Re6,a4,c6,Rf7,Rh6,Rf5,Re6,Rf4,Rh6,Rh4,Ke6,Kc3,a5,b4,axb4+,Kxb4,Kd7,Kc5,Re6,Rh3,Re8,Rb3,Kc7,Rb6,Ra8,Rxc6+,Kd7,Kb5,Rxa4,Kc5', 'Rc4+,Kxd5,Rxc6', 'https://lichess.org/training/x9E0S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x9hlH', 'Rapid', 'saman1386', 2072, 'LadiBimbo', 2088, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b5,f4,Qc7,Bd3,Bb7,Be3,Nf6,a3,b4,axb4,Bxb4,e5,Nd5,Bd2,Nxc3,bxc3,Bxc3,Ne2,Bxd2+,Qxd2,Qc5,Ng3,O-O,Rb1,Bc6,Ne4,Bxe4,Bxe4,Nc6,Rb3,Rab8,Qc3,Rb5,Qxc5,Rxc5,O-O,Nd4,Rd3,Nxc2,Rxd7,Ne3,Rf3,Nf5,Bxf5,exf5,Ra3,Ra8,Rg3,g6,Rb3,Rc6,Rbb7,Rf8,Ra7,h5,Kf2,h4,Re7,Rb6,g3,hxg3+,Kxg3,Rb3+,Kh4,Rf3,Kg5,Rh3,Kf6,Rh6,Rxf7', 'g5+,Kxg5,Rxf7,Kxh6,Rxa7', 'https://lichess.org/training/x9hlH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x9IG5', 'Rapid', 'Elektriker', 1685, 'nasirmark', 1731, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,d4,a6,Ba4,b5,Bb3,Na5,Bd2,Nxb3,axb3,Nf6,Re1,Be7,d5,O-O,Bb4,Bg4,Nc3,Nh5,Qd3,Nf4,Qe3,f5,h3,Bh5,exf5,Rxf5,g4,Nxh3+,Kh2,Bg5,Nxg5,Rxf2+,Kxh3,Bxg4+,Kxg4,Rf4+,Kh3,Qxg5,Qg3,Qh5+,Kg2,Raf8,Re4,g6,Rh1', 'Rf2+,Qxf2,Rxf2+,Kxf2,Qxh1', 'https://lichess.org/training/x9IG5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X9o1I', 'Rapid', 'Mario_S', 1915, 'Electric_Max', 1650, 'd4,e6,c4,Nf6,Nc3,c5,d5,exd5,cxd5,d6,e4,Be7,Bb5+,Nbd7,Nge2,O-O,Ng3,a6,Be2,b5,a3,g6,O-O,Re8,Re1,Bf8,Bg5,Qc7,b3,Bg7,b4,c4,a4,Rb8,axb5,axb5,Ra5,Nc5,Nxb5,Rxb5,bxc5,Rxa5,c6,Ba6,Qc1,Nxe4,Bxc4,Bxc4,Nxe4,Bxd5,Nf6+,Bxf6', 'Rxe8+,Kg7,Bh6#', 'https://lichess.org/training/X9o1I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x9ODU', 'Rapid', 'Cafedeschaakvriend', 1837, 'fastforward', 1961, 'b4,f5,Bb2,Nf6,c4,d6,e3,e5,Bd3,Be7,Ne2,O-O,O-O,Qe8,f4,e4,Bc2,Qh5,Ng3,Qh4,d3,Ng4,h3,Qxg3,hxg4,Qxe3+,Kh1,fxg4,dxe4,Rxf4,Rxf4,Qxf4,Qd5+,Kh8,Nd2,Qh6+,Kg1,c6,Qd3,Nd7,Rf1,Ne5,Bxe5,dxe5', 'Qd8+,Bxd8,Rf8#', 'https://lichess.org/training/x9ODU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X9qUB', 'Rapid', 'VicentSC', 1815, 'skuu', 1820, 'd4,d5,e3,Nf6,c4,dxc4,Bxc4,Be6,Nc3,Bxc4,Qa4+,b5,Nxb5,Bxb5,Qxb5+,Nbd7,Qa4,e6,Ne2,h6,O-O,g5,Ng3,Be7,e4,Ng8,f4,gxf4,Bxf4,Bg5,d5,Bxf4,Rxf4,Qg5,dxe6,Qxf4,Qxd7+,Kf8,Rf1,Qxf1+,Kxf1,fxe6,Qxe6,Rh7,Qc6,Rf7+,Ke2,Rb8,b3,Rb6,Qa8+,Kg7,Qxa7,Rc6,Qd4+,Nf6,Nf5+,Kh7,e5,Nh5,Qe4,Kh8,e6', 'Rxe6,Qxe6,Nf4+,Ke3,Nxe6', 'https://lichess.org/training/X9qUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x9Sno', 'Blitz', 'igr-1', 2127, 'blessedrusere', 1946, 'c4,Nf6,Nc3,e6,e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Be3,Be7,Be2,O-O,O-O,e5,Nc2,Be6,b3,Qc7,Qd2,Ng4,Bg5,h6,Bxe7,Qxe7,Bxg4,Bxg4,f3,Be6,Rfd1,Rad8,Ne3,Nd4,Ncd5,Qg5,Qf2,f5,exf5,Nxf5,Nxf5,Rxf5,Qxa7,Bxd5,Rxd5,Rxf3,Rad1,Rdf8,Rxd6,Re3,Qxb7,Re2,Qd5+,Kh8,Rd8', 'Qe3+,Kh1,Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/x9Sno');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X9UGY', 'Blitz', 'GM kivanchaznedaroglu', 2601, 'Fiery_calm', 2488, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nc3,e5,Qd3,h6,Nd2,Nf6,Nc4,Be7,Ne3,O-O,f3,Rc8,Bd2,a6,O-O-O,b5,Kb1,Qc7,Rc1,Rfd8,Ncd5,Bxd5,Nxd5,Nxd5,Qxd5,Qc4,Ba5,Qxd5,exd5,Re8,Rhd1,Bg5,Bd2,Bxd2,Rxd2,f5,c3,Kf7,Kc2,Kf6,Kd3,g5,Re2,g4,fxg4,fxg4,Rf1+,Kg6,b3,Rf8,Ref2,Rxf2,Rxf2,Rc5,c4,bxc4+,bxc4,Ra5,Rc2,h5,g3,Kf5,Rf2+,Kg6,Rb2,Ra3+,Kd2,Kf5,Rb6,Ke4,Rxd6,Kd4,Rh6,Rxa2+,Ke1,Kxc4,d6,Ra5,Rxh5,Rd5,d7,Kd4,Rh7,Ke3,Re7,e4,Rg7,a5,Rxg4,Rxd7,Rg5,Ra7,Rc5,a4,Rc3+,Kd4,Ra3,Kc4,Kd2,Kb4,Re3,Re7,Kc2,a3,Rb3+,Ka4,Re3,Rc7+,Kb1,Rc4,g4,Rd4,g5,a2+,Kxa2,Rd2+,Kb1,Rxh2,Rxe4+,Kb3,Rg4', 'Rh1+,Rg1,Rxg1#', 'https://lichess.org/training/X9UGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x9XnB', 'Rapid', 'Delacharette1', 1664, 'Juanes312', 1652, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Nxd4,Nxd4,Qxd4,Ne7,Bf4,Nc6,Qd2,Be6,Bb3,g6,O-O,Bg7,Bg5,Qd7,Nc3,O-O,Bh6,Rfe8,Bxg7,Kxg7,Nd5,Ne5,f4,Ng4,h3,Nh6,g4,Bxd5,Bxd5,c6,Bb3,Rxe4,f5,f6,Be6,Qc7,Rae1,d5,Rxe4,Qg3+,Qg2,Qxg2+,Kxg2,dxe4,Re1,gxf5,gxf5,Rd8,Kf2,Rd2+,Re2,Rxe2+,Kxe2,Nf7,Bxf7,Kxf7,Ke3,Ke7,Kxe4,Kd6,c4,a5,a4', 'Kc5,Kd3,Kb4', 'https://lichess.org/training/x9XnB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('X9xnY', 'Rapid', 'publicpawn', 1832, 'amingathetop', 1830, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,a3,O-O,b4,Be7,Bb2,f6,exf6,Nxf6,Be2,Qe8,O-O,d6,Nc3,a6,Nd5,Nxd5,cxd5,Ne5,Nxe5,dxe5,Bxe5,a5,b5,Bd6,Bd4,Qe7,Qc2,Bf5,Qc3,Bd7,a4,Bc8,Rac1,Bf5,f3,Rae8,e4,Qg5,Bd3,Bc8,Rce1,Bf4,Re2,Kh8,e5,Bf5,Bxf5,Qxf5,e6,Re7,Be5,b6,Bxf4,Qxf4,Re4,Qf6,Qd3,h6,Rfe1,Qg6,Qc3,Qg5,Kh1,Qxd5,Rd4,Qf5,Rde4,Kh7,Qa3,Qg5,Qb3,Rd8,Qc2', 'Rd2,Qxd2,Qxd2', 'https://lichess.org/training/X9xnY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x9XQR', 'Blitz', 'Leo16NS', 1785, 'elcraken45', 1788, 'e4,e5,Nf3,d6,Bc4,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Be6,Nc3,Bxc4,Qxc4,Nf6,O-O,Be7,f4,O-O,Be3,a6,Rad1,b5,Qe2,Qc8,Qf3,c5,Rfe1,b4,Nd5,Nxd5,exd5,Bf6,Bc1,a5,b3,a4,g4,a3,g5,Bb2,h4,c4,h5,cxb3,cxb3,Qa6,h6,Rfc8,Qe3,Rc2', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/x9XQR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('x9ZYd', 'Blitz', 'Abang_raizal', 1817, 'Awakeprize', 1930, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Bg5,h6,Bh4,d6,h3,g5,Bg3,Be6,Bxe6,fxe6,Nbd2,Qd7,Nb3,Bb6,Qd2,a5,a3,a4,Nc1,Nd4,Nxd4,Bxd4,c3,Bb6,Ne2,Qc6,O-O,O-O-O,Rac1,Nh5,Bh2,Rhf8,Ng3,Nxg3,Bxg3,Rf7,d4,Qb5,c4,Qb3,Rc3,Qa2,d5,exd5,cxd5,Bd4,Rc2,Qb3,Kh1,Kb8,f3,Be3,Qe2,Bf4,Bxf4,gxf4,Rfc1,Rg7,Rc3,Qb6,R1c2,Rdg8,Qc4,Kc8,Qxa4,Rg3,Qc4', 'Rxh3+,gxh3,Qg1#', 'https://lichess.org/training/x9ZYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xa1g4', 'Rapid', 'scuzzi', 1778, 'AleksandrB99', 1728, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Bb5+,Bd7,Bxd7+,Qxd7,Nf5,g6,Ne3,Bg7,Nc3,Nf6,Ned5,Nxd5,Nxd5,O-O,O-O,Nc6,c3,Rfe8,f3,Ne5,Bf4,b5,Bxe5,Bxe5,f4,Bg7,Qf3,Qc6,f5,Re5,fxg6,fxg6,Qf7+,Kh8,Ne7,Qd7', 'Nxg6+,hxg6,Qxd7', 'https://lichess.org/training/xa1g4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xa2M8', 'Classical', 'Mrd2d4', 2207, 'werwolf1982', 2019, 'd4,d5,Nf3,Nc6,g3,Nf6,Bg2,Bg4,O-O,Bxf3,Bxf3,e6,b3,Bd6,Bb2,h5,h4,g5,hxg5,Nh7,c4,Qxg5,Qd2,Bxg3,fxg3', 'Qxg3+,Bg2,Rg8', 'https://lichess.org/training/xa2M8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xa481', 'Classical', 'Schuetze', 1639, 'Koolba662', 1661, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,Nc3,Nf6,d4,exd4,Nxd4,c5,Nf3,Bg4,h3,Bh5,Bg5,Be7,g4,Bg6,Nh4,Nxe4,Bxe7,Qxe7,Qe2,Qxh4,Nxe4,O-O,O-O-O,Rfe8,f3,d5,Qf2,Qxf2,Nxf2,d4,Rhe1,h6,Nd3,Bxd3,cxd3,Kf8,Kd2,Rxe1,Rxe1,Re8,Re4,g6,f4,f6,h4,Kf7,b3,a5,a4,c6,Ke2,Re6,Kf3,Ke7,Rxe6+,Kxe6,Ke4,Kd6,Kf3,Kd5,g5,fxg5,fxg5,hxg5,Kg4,Ke5', 'Kxg5,c4,bxc4,c5,Kxg6', 'https://lichess.org/training/xa481');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xA5nj', 'Blitz', 'erdalkalach', 1544, 'diembaelah', 1520, 'e4,b6,Bc4,Bb7,d3,e6,Nf3,Qf6,O-O,d5,exd5,exd5,Re1+,Be7,Bg5,Qd6,Bxe7,Nxe7,Bb3,O-O,Nbd2,Bc8,c3,c6,Qc2,Nf5,d4,Qg6,Ne5,Qg5,Ndf3,Qh5,Bc4,dxc4,b3,cxb3,Qxb3,Kh8,h3,f6,g4,Qxh3,Nf7+,Rxf7', 'Re8+,Rf8,Rxf8#', 'https://lichess.org/training/xA5nj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XA6xO', 'Blitz', 'Diegoamr', 1514, 'ChetanRk19', 1633, 'd4,e6,Bf4,d5,e3,Nc6,a3,h6,h3,Bd6,Bxd6,Qxd6,c4,dxc4,Bxc4,Nf6,Nc3,a6,Nge2,O-O,O-O,Bd7,Bd3,Nd5,Qc2,Nxc3,Nxc3,Ne7,Ne4,Qc6,Qe2,f5,Rac1,Qd5,Nc3,Qd6,Qh5,Be8,Qh4,Ng6,Qh5,Nf4,Qd1,Bh5,f3,Nxd3,Qxd3,Qg3,Ne2,Qg6,Nf4,Qe8,Rxc7,Rb8,Rfc1,Bf7,R1c5,g5,Ne2,Bg6,Qb3,Bf7,Rxb7,Rxb7,Qxb7,Qd8,Rc7,Qd6,Ng3,Qxg3,d5,exd5,Rd7,Qe1+,Kh2,Qxe3,Qxa6,Qe5+,Kh1,d4,Qb7,Qe1+,Kh2,Qe2,Qa7,d3,Qg1,d2,Kh1,Re8,Kh2,Qe1,Qa7,Qe5+,g3,d1=Q,Rxf7,Kh8', 'Rh7+,Kg8,Qf7#', 'https://lichess.org/training/XA6xO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XabqP', 'Rapid', 'Art0fPawn', 1813, 'paolo1810', 1648, 'e4,c5,f4,Nc6,Nf3,e6,Bc4,Nge7,f5,exf5,Bxf7+,Kxf7,exf5,Nxf5,O-O,Kg8,d3,d5,Nc3,d4,Ne4,Be7,a3,h6,Bf4,Kh7,Ne5,Nxe5,Bxe5,Ne3,Qf3,Nxf1,Rxf1,Rf8,Qg3,Rxf1+,Kxf1,Bf6,Nxf6+,gxf6,Bf4,Qg8,Qf3,Qg4,Qe4+,Qf5,Qe7+,Kg6,g3,Qe6,Qf8,Qh3+,Kg1,Qh5', 'Qe8+,Kg7,Qxh5', 'https://lichess.org/training/XabqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xAbze', 'Rapid', 'zory', 1648, 'Nestor0805', 1675, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,c5,Qd5,Qe7,Nc3,Nf6,Qd3,Bf5,f3,Be6,O-O,Bxc4,Qxc4,h6,Qb5+,Qd7,Bf4,a6,Qxd7+,Nxd7,Nd5,O-O-O,a3,g5,Bg3,Re8,b4,Bg7,Rab1,Be5,Bxe5,Rxe5,c4,b5,cxb5,axb5,Rfd1,c4,g4,Kb7,Ra1,Nb6,Nxb6,Kxb6,Rxd6+,Kc7,Rd5,Rxd5,exd5,Kd6,a4,Ra8,a5,Kxd5,Rc1,Kd4,Kf2,Kd3,Ke1,Re8+,Kf2,c3,a6,Ra8,Rd1+,Kc4,Ke3,Kxb4,Kd3,Rd8+,Kc2,Ra8,Rd4+,Ka5,Kxc3,Rxa6,Rd7,f6,Rh7,Rc6+,Kb3,b4,Rxh6,Rc3+,Kb2,Rxf3,h4,Rf4,h5,Kb5,Rg6,Rxg4,Rxf6,Rh4,Rf5+,Kc4,Rxg5,Rh2+,Kb1,b3,Rg4+,Kc3,Rg3+,Kb4,Rg4+,Ka3,Rg5', 'Rh1+,Rg1,Rxg1#', 'https://lichess.org/training/xAbze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XacEN', 'Blitz', 'chochi', 1918, 'FM Los5hermanos', 2255, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Bf4,Nc6,c3,g6,Nf3,Bg7,Nbd2,O-O,O-O,Bf5,Bxf5,gxf5,Ne5,e6,Ndf3,Ne4,Nd2,Nxe5,Bxe5,Bxe5,dxe5,Kh8,f3', 'Qb6+,Kh1,Nf2+,Rxf2,Qxf2', 'https://lichess.org/training/XacEN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XaCm5', 'Blitz', 'Jeremymac', 1741, 'Mihailzxc', 1773, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,Re1,O-O,c3,d5,exd5,Nxd5,d4,exd4,Nxd4,Nxd4,Qxd4,c6,Bf4,Bf6,Be5,Bxe5,Rxe5,Be6,Nd2,Qf6,Rae1,Rad8,Bxd5,Bxd5,Qb4,Bxg2,Kxg2,Rxd2', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/XaCm5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XAeEt', 'Blitz', 'Dadley', 1505, 'Monra51', 1916, 'd4,d5,Nf3,Bf5,Bg5,Nc6,a3,h6,Bh4,g5,Bg3,Nf6,e3,e6,Nbd2,Bd6,Be2,Ne4,Bxd6,Qxd6,Rc1,O-O-O,c4,Nxd2,Nxd2,dxc4,Nxc4,Qd5,Bf3,Be4,O-O,Bxf3,Qxf3,Qxf3,gxf3,f5,Rfe1,h5,f4,gxf4,exf4,Nxd4,Ne5,Rdg8+,Kf1,h4,h3,Nb3,Rc2,a6,Rd1,Rg7,Ke2,b6,Rd3,Na5,Rdc3,c5,b4,Nb7,bxc5,Nxc5,Ke3,Kb7,Nd3,Ne4,Rc6,Re8,Ne5,Nc5,Kd4,Rg1,Kc4,Rd1,Rb2,Rc1+,Kb4,a5+,Kb5,Rd8,Nc4,Rd5,Rxb6+,Ka7,Kc6,Na4,Rb7+,Ka8', 'Rb8+,Ka7,R2b7+,Ka6,Ra8#', 'https://lichess.org/training/XAeEt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XAFnr', 'Blitz', 'baaaaaa', 1799, 'Vulcan_o', 1719, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Bd6,O-O,O-O,Nc3,c6,Bg5,Bg4,Ne5,Bxe2,Qxe2,Re8,f4,Nbd7,Qf3,Qc7,Nxd7,Nxd7,Ne2,Re4,Ng3,Rxd4,Nf5,Re4,Bh6,g6,Nxd6,Qxd6,f5,Rh4,fxg6,Qxh2+,Kf2,Rxh6', 'Qxf7+,Kh8,g7#', 'https://lichess.org/training/XAFnr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XAFYe', 'Blitz', 'Nepechupamelo', 2058, 'Mr_Gei', 2050, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,O-O,d6,c3,h6,h3,O-O,Nbd2,Ne7,Re1,c6,Ba4,b5,Bb3,a5,a4,b4,c4,Ng6,Nf1,Nh7,Ng3,Nh4,Qe2,Nxf3+,Qxf3,Ng5,Qe2,Bd4,Rb1,c5,Be3,f5,exf5,Bxf5,Bxd4,exd4,Bc2,Re8', 'Qxe8+,Qxe8,Rxe8+,Rxe8,Nxf5', 'https://lichess.org/training/XAFYe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XagnB', 'Blitz', 'arkengemma', 1704, 'ReginaBottana', 1674, 'd4,d5,c4,dxc4,e3,e6,Bxc4,c6,Nf3,a5,a4,b6,O-O,Ba6,Bxa6,Nxa6,Nc3,Nb4,Ne5,Rc8,Qf3,Qc7,e4,Nf6,Bf4,Qb7,Bg5,Be7,Bxf6,Bxf6,Rad1,O-O,Ng4,Be7,e5,Qc7,Ne4,c5,Qg3,cxd4,Nef6+,Kh8,Nxh7,Kxh7,Qh3+,Kg8,Rxd4,Bc5,Nh6+,Kh8,Rh4,gxh6,Rxh6+,Kg7,Qh5,Rh8', 'Qg5+,Kf8,Rxh8#', 'https://lichess.org/training/XagnB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xal4m', 'Rapid', 'saprin', 1801, 'moseberi', 1785, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Ne7,d4,exd4,Qe4+,Kd6,Qxd4,c6,Bf4+,Kd7,O-O-O,Ke8,Rhe1,Be6,Rxe6,Qd7,Nxd5,cxd5,Bxd5,Rc8,Bg5,Qc7,c3,h6,Bh4,g5,Bg3,Qa5,Re5,b5,Bf7+,Kxf7,Rxe7+,Bxe7,Qd5+,Kg6,Qe4+,Kh5,h3,Ba3,Qg4+,Kg6,Qe6+,Kh5,Be5,Rxc3+,Bxc3', 'Qxc3+,Kb1,Qxb2#', 'https://lichess.org/training/Xal4m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XAlu4', 'Rapid', 'SamDooley', 2068, 'SrSebas', 1908, 'Nf3,f5,e4,fxe4,Ng5,Nf6,d3,e6,Nc3,Be7,dxe4,Nc6,Bd3,O-O,O-O,d5,exd5,exd5,Re1,Ng4,Nf3,Qd6,Nb5,Qc5,Nbd4,Nxd4,Nxd4,Qxd4', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/XAlu4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XAnCv', 'Rapid', 'JafferJalil', 1602, 'AndrePetrow2009', 1614, 'g3,e5,Bg2,d5,b3,Nf6,Bb2,Nc6,d3,d4,Nd2,Bb4,Nf3,h6,O-O,O-O,Nc4,Re8,Ba3,Bxa3,Nxa3,Qe7,Nb1,Bg4,Nfd2,Qd7,f3,Bh5,Ne4,Nxe4,dxe4,Rad8,Qd3,Nb4,Qc4,a5,a3,Nc6,b4,axb4,axb4,Qe6,Qb5,Rc8,Ra4,b6,c3,dxc3,Nxc3,Nd4,Qd3,Rcd8,Nd5,c6,Nc7,Nxf3+,Qxf3,Bxf3,Bxf3,Qd7,Nxe8,Rxe8,Ra3,Qd4+,Kg2,Qxb4,Rd3,c5,Bg4,c4,Rdf3,c3,Bd7,Re7,Bc6,c2,Bd5,Qb2,Bxf7+,Kh8', 'Bg6,Qa2,Rf8+,Qg8,Rxg8+', 'https://lichess.org/training/XAnCv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xAnma', 'Rapid', 'DANILOOOTUTU', 1764, 'FinalBoss_1987', 1850, 'd4,c5,c3,cxd4,cxd4,d5,Nf3,Nf6,Nc3,e6,Bg5,Be7,e3,O-O,Bd3,Nc6,O-O,h6,Bh4,a6,Bc2,b5,Qd3,Nb4,Qe2,Nxc2,Qxc2,Bb7,Kh1,Rc8,g4,Nxg4,Rg1,Bxh4,Rxg4,Bxf2,Qxf2,f5,Rg6,f4,Rag1,Rc7,Ne5,fxe3,Qxe3,Kh7,Nf3,Rcf7,Ng5+,Kh8,Nxf7+,Rxf7,Qe5,Qf8,Ne2,Kh7,Qxe6,Bc8,Qxd5', 'Bb7,Qxb7,Rxb7', 'https://lichess.org/training/xAnma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xaOjH', 'Rapid', 'torajiro974', 1885, 'ghippi', 1879, 'd4,d5,Nf3,Nf6,c4,e6,Nc3,c6,Bg5,Be7,e3,Nbd7,Bd3,dxc4,Bxc4,b5,Be2,a6,O-O,Bb7,Qc2,Rc8,Rfd1,O-O,Ne5,Qb6', 'Nxd7,Nxd7,Bxe7', 'https://lichess.org/training/xaOjH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XAPTw', 'Rapid', 'runtilmorrow', 2151, 'cristof012', 1930, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Be7,e5,Ng4,Re1,d6,exd6,cxd6,h3,Nge5,Bb5,O-O,Nxd4,Nxd4,Qxd4,Nc6,Qe4,Ne5,Bf4,Ng6,Bg3,Bd7,Bc4,Bc6,Qe2,Bf6,Nc3,Re8,Qh5,Be5,f4,Bxf4,Bxf4,Rxe1+', 'Rxe1,Qb6+,Be3', 'https://lichess.org/training/XAPTw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XaS7B', 'Rapid', 'SergPav', 1852, 'islamyousif', 1801, 'Nf3,Nf6,d4,d5,c4,Bf5,Nc3,e6,Bg5,Be7,e3,c5,cxd5,Nxd5,Nxd5,exd5,Bxe7,Qxe7,Bb5+,Nc6,O-O,O-O,dxc5,Qxc5,Ba4,Rad8,Rc1,Qb6,Bb3,Be6,Nd4,Ne5,Nxe6,fxe6,Qe2,Rf6,Rc3,Rdf8,f4,Ng6,Kh1,Qd8,h3,Nh4,Rfc1,Nf5,Kh2,Rh6,e4,Nd4,Qe3,Nxb3,axb3', 'd4,Qf3,dxc3', 'https://lichess.org/training/XaS7B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xasO4', 'Rapid', 'romahoma', 1992, 'Manan01Malim', 1996, 'c4,e5,Nc3,Nf6,g3,Bb4,Bg2,Bxc3,bxc3,O-O,e4,Nc6,Ne2,d6,O-O,Bg4,f3,Be6,Qb3,Na5,Qd1,Nxc4,d4,Qd7,d5,Bh3,Rf2,Bxg2,Rxg2,c6,Qd3,cxd5,exd5,Nb6,c4,Rac8,Bg5,Rxc4,Bxf6,gxf6,Rc1,Rfc8,Rxc4,Rxc4,g4,Qa4,g5,fxg5,Rxg5+,Kh8,Rh5,e4,fxe4,Qd7,Ng3,Qg4,e5,Qd4+,Qxd4,Rxd4,exd6,Nxd5,Nf5,Rd1+,Kf2,Nf6,Rh4,Rd2+,Ke3,Rxa2,Rd4,Nd7,Re4,h5,Re7,Ra3+,Kf4,Nb6,Rxb7,Rd3,Rxa7,Kg8,Rb7,Nd5+,Ke4,Rd1,Nh6+,Kg7,Nxf7,Kf6,d7,Ne7,Nd8,Nf5,Nc6', 'Nd6+,Ke3,Nxb7', 'https://lichess.org/training/xasO4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xAsof', 'Rapid', 'ahhabib', 1644, 'Palych', 1857, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Nc3,d6,O-O,a6,Bg5,h6,Bh4,Bg4,h3,Bh5,a3,Nd4,Kh2,c6,g4,Nxf3+,Qxf3,g5,Bg3,Bg6,b4,Bd4,Rad1,h5,gxh5,Bxh5,Qf5,Bxd1,Nxd1,g4,h4,Qe7,Ne3,Rg8,a4,b5,axb5,axb5,Bb3,Rd8,c4,bxc4,Nxc4,d5,Nxe5,Bxe5,Bxe5,Nd7,Bg3,Qxb4,Qh7,Ke7,Bd1,Nf6,Qf5,dxe4', 'Qe5+,Kf8,Qxf6', 'https://lichess.org/training/xAsof');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xau1p', 'Rapid', 'Samagace69', 1666, 'Alekh1ne', 1652, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,d6,O-O,Bd7,d4,exd4,cxd4,Bb6,Nc3,a6,Bc4,Bg4,h3,Bh5,g4,Bg6,Nd5,Nge7,Nxb6,cxb6,Nh4,Bxe4,Re1,d5,Bd3,Bxd3,Qxd3,O-O,Bg5,f6,Bd2,a5,Bc3,Qe8,Nf5,Qd7,Re3,Nxf5,gxf5,Rae8,Rxe8,Rxe8,Re1,Re7,Re3,Rxe3,fxe3,Ne7,e4,dxe4,Qxe4,Nxf5,Qf4,Qe6,Qb8+,Kf7,Qxb7+,Kg6,Qg2+,Kh6,Bd2+,g5,d5,Qd6,Qf3,Qg3+', 'Qxg3,Nxg3,d6', 'https://lichess.org/training/xau1p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XAuay', 'Rapid', 'AbuTammam', 1689, 'Demidov_A', 1748, 'c4,b6,d3,Bb7,Nc3,e6,Nf3,Bxf3,exf3,Bb4,Bd2,Nc6,Be2,Nd4,O-O,Nxe2+,Qxe2,Nf6,Ne4,Bxd2,Qxd2,O-O,Rae1,d5,Nxf6+,gxf6,Qf4,Kh8,Qh6,d4,Re4,Rg8,Rh4,Rg7,Re1,e5,Ree4,Qg8,Qxf6,Re8,Rh5,Re6,Qf5,Rxg2+,Kf1,Rg1+,Ke2,Rb1,Rg4,Rxb2+,Kd1,Rg6,Qxe5+,f6,Qxc7,Rxa2,Rxg6,Qxg6,Qd8+,Kg7,Qd7+,Qf7', 'Rxh7+,Kxh7,Qxf7+', 'https://lichess.org/training/XAuay');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XavL3', 'Rapid', 'berlioz52', 1692, 'Otta_Ocean', 1673, 'f4,d5,Nf3,e6,e3,Nc6,Be2,b6,O-O,a5,a3,Ba6,Bxa6,Rxa6,b3,Bd6,Bb2,f6,Qe1,Nh6,Qg3,Nf5,Qh3,h6,Nh4,Nce7,Qg4,h5,Qe2,Ra8,Qb5+', 'c6,Qe2,Nxh4', 'https://lichess.org/training/XavL3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xaWtT', 'Rapid', 'alkooli', 1527, 'Hamdidjamel28000', 1544, 'e4,e6,d4,c5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Ne5,cxd4,Qf3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/xaWtT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XAYeN', 'Blitz', 'mykola123', 1597, 'dewe77', 1641, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,c5,Qd1,Nf6,Nc3,h6,Nd5,Nxe4,O-O,Be7,Re1,Bf5,f3,O-O,Nxe7+,Qxe7,fxe4,Bxe4,Bd3,f5,Bxe4,fxe4,Qg4,d5,Bxh6,Rf7,Rf1,Raf8,Rxf7,Rxf7,Bd2,d4,c3,e3,Be1,d3,Bh4,Qd7,Qxd7,Rxd7,Re1,e2,Bg5,d2,Bxd2,Rxd2,Kf2,Rxb2,Rxe2,Rxe2+,Kxe2,b6,Kd3,Kf8,Kc4,Kf7,Kb5,Kf6,Ka6,Kf5,Kxa7,b5,Kb6,b4,cxb4', 'c4,Ka6,c3,b5,c2', 'https://lichess.org/training/XAYeN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xaZDa', 'Rapid', 'skakistis64', 1880, 'Ratu77', 1962, 'd4,d5,Nf3,Bf5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,c6,Be2,Ne4,Bf4,Nxc3,bxc3,Qa5,Qb3,dxc4,Bxc4,b5,Be2,b4,c4,Bc2,Qxc2', 'b3+,Qd2,Bb4', 'https://lichess.org/training/xaZDa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xB0O9', 'Blitz', 'Vasia040288', 2503, 'GM Masterferrari', 2657, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,Ne2,h6,Bxf6,Qxf6,a3,Bxc3+,Nxc3,dxe4,Nxe4,Qe7,Qd3,Bd7,O-O-O,Bc6,Be2,Nd7,Bf3,O-O-O,Rhe1,Bxe4,Qxe4,c6,c3,Nf6,Qc2,Qc7,g3,Kb8,h4,g5,hxg5,hxg5,Rh1,a6,Qd2,g4,Bg2,Nd5,Qg5,f5,Bxd5,cxd5,Rhe1,Qd6,Re5,Rc8,Qe3,Rc6,Re1,Rh2,Re2,Ka7,Kb1,Rb6,Ka2,Qc6,Qd3,Qa4,Qc2,Qc4+,b3,Qc8,Qd3,Rc6,Kb2,Rh1,Re1,Rh2,R1e2,Rh1,a4,Qd7,a5,Qc7,b4,Qd7,Rc2,Rc8,Qe3,Qa4,Rc1,Rxc1,Qxc1,Rh8,Rxe6,Rh2,Re2,Qb5,Qe3,Qc4,Rd2,Rh1,Qd3,Qc6,Qc2,Qe6,c4,Qe1,Kc3,Qa1+,Qb2,Qe1,Kb3,dxc4+,Kxc4,Qe4,Kb3', 'Rb1,Ka2,Rxb2+', 'https://lichess.org/training/xB0O9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xB0vD', 'Rapid', 'N8GGWP', 2029, 'filixius', 2071, 'e4,Nf6,Nc3,e5,d3,d6,Nge2,c5,Be3,Be7,Qd2,O-O,f4,Ng4,h3,Nxe3,Qxe3,exf4,Nxf4,Bg5,O-O-O,Nc6,g3,Nd4,Nce2,Be6,a3,b5,Nxd4,cxd4,Qxd4,a5,h4,Bf6,Qe3,b4,axb4,axb4,d4,Ra1+,Kd2,Rxd1+,Kxd1,Qa5,b3,Qa1+,Kd2,Bxd4,Qf3,Bc3+,Ke2,Qc1,Qd3,Bg4+,Kf2,Qe1+,Kg2,Re8,Be2,Qxe2+,Nxe2,Be5,Nd4,h5,Ra1,Rc8,Ra2,Rc3,Ra8+,Kh7,Qd2,Rxg3+,Kf1', 'Bh3+,Kf2,Rg2+,Ke3,Rxd2,Kxd2,Bxd4', 'https://lichess.org/training/xB0vD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xb387', 'Rapid', 'Lowit', 2241, 'hutgovy', 2127, 'e4,c6,Nf3,d5,Nc3,Bg4,h3,Bxf3,Qxf3,dxe4,Nxe4,Nd7,d4,Ngf6,c3,e6,Bd3,Be7,Bd2,O-O,O-O-O,a5,g4,a4,g5,Nd5,h4,b5,h5,b4,c4,b3,cxd5,bxa2,Kc2,cxd5,Nc3,Rc8,Ra1,Qb6,Rxa2,Qxd4,Qf4,Qxf4,Bxf4,d4,Rxa4,dxc3,bxc3,e5,Be3,Nc5,Ra7,Nxd3,Rxe7,Nb4+,Kb3,Nd5,Rxe5', 'Rxc3+,Kb2,Rb8+', 'https://lichess.org/training/Xb387');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xb938', 'Blitz', 'SHRAVI456', 2120, 'm-schacho', 2130, 'd4,d5,e3,Nf6,c4,c5,Nc3,e6,Nf3,Nc6,Be2,cxd4,exd4,Be7,c5,O-O,O-O,Ne4,Bf4,f6,Nb5,g5,Be3,a6,Nc3,h5,Ne1,h4,Bg4,e5,Nc2,Nxc3,bxc3,f5,Bh5,f4,Bc1,e4,Bg4,f3,gxf3,exf3,Bxf3,Qe8,Ne3,Qg6,Nxd5,g4,Bg2,Bd8,Qb3,Be6,Qd1,h3,Bh1,Bh4,Nf4,Qf6,d5,Bf7,dxc6,Rad8,Qxg4+,Bg6,Qxg6+,Qxg6+,Nxg6', 'Bxf2+,Rxf2,Rd1+,Rf1,Rdxf1#', 'https://lichess.org/training/Xb938');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xB9zV', 'Rapid', 'mofoka', 2327, 'FM talk2uee', 2410, 'd4,Nf6,Bf4,c5,e3,Qb6,b3,d5,c4,Bg4,Nf3,Nc6,Nc3,e6,Be2,cxd4,Nxd4,Bxe2,Ncxe2,Bb4+,Kf1,O-O,g3,Rfe8,Kg2,e5,Nxc6,bxc6,Bg5,Ne4,a3,Bf8,Bh4,g5,f3,gxh4,fxe4,Qxe3,exd5,cxd5,cxd5,Rad8,Rf1,Qe4+,Rf3,Rxd5,Nc3,Rxd1,Nxe4,Rxa1,Nf6+,Kh8,Nxe8,Rxa3,Rxf7,Kg8,Rb7,hxg3,hxg3,e4', 'Nf6+,Kh8,Rxh7#', 'https://lichess.org/training/xB9zV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XBa1t', 'Rapid', 'maxzana', 1620, 'metehan1801', 1693, 'd4,d5,c4,Bf5,Nc3,e6,f3,c5,e4,dxe4,fxe4,Qxd4,Qa4+,Nc6,exf5,Qe5+,Nge2,Qxf5,Bf4,Nf6,O-O-O,Be7,Qb5,O-O,Qxb7,Ne5,Bxe5,Qxe5,Qxe7,Qe3+,Kb1,Ne4,Nxe4,Qxe4+,Ka1,Qxc4,Rc1,Qb4,g3,Rab8,Rb1,Rb7,Qd6,Qe4,Rg1,Rfb8,Qxc5,Rb5,Qxa7,Qc2,Qa3,Rxb2,Rxb2', 'Qd1+,Nc1,Qxc1+,Rb1,Qxb1#', 'https://lichess.org/training/XBa1t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XbcOV', 'Blitz', 'Remmaher77', 2228, 'El_Sudaca', 2300, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Nxe5,Rxe5+,Be7,Nc3,Nxb5,Nd5,O-O,Nxe7+,Kh8,Qh5,g6,Qh4,f6,Nxg6+,Kg7,Nxf8,d5,Nxh7,Bd7,Nxf6,Qxf6,Qxf6+,Kxf6,Rxd5,Bc6,Rh5,Re8,Kf1,Nd4,c3,Nc2,f3,Nxa1,d4,Nc2,Bf4,Kg6,Rg5+,Kf6,Rh5,Kg6,Ra5,b6,Rxa7,Kf5,Bxc7,Ne3+,Kf2,Nd1+,Kf1', 'Bb5+,c4,Bxc4+,Kg1,Re1#', 'https://lichess.org/training/XbcOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xBcVD', 'Rapid', 'Syox', 1780, 'pausamertali', 1805, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,Nf3,Bb4,Bd2,Nc6,e3,Bxc3,Bxc3,O-O,Bd3,Bd7,O-O,Qe7,e4,Nxc3,bxc3,e5,Re1,Bg4,h3,Bxf3,Qxf3,exd4,Bb5,Ne5,Qg3,Qc5,c4,a6,Rab1,Nxc4,Bxc4,Qxc4,Rxb7,Qxa2,Rxc7,Rab8,Rec1,Rb3,Qe5,d3,Rc8,Rb1,Rxf8+,Kxf8,Qd6+,Ke8,Qc6+,Ke7,Qc7+,Kf6,Qd6+,Kg5,Qe5+,Kh6,Qf4+,Kg6,Qf5+,Kh6,Qf4+,Kg6,Qg4+,Kf6,Qf5+,Ke7,Qe5+,Kd7,Qd4+,Ke6', 'Qd5+,Qxd5,exd5+,Kxd5,Rxb1', 'https://lichess.org/training/xBcVD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XbE1n', 'Blitz', 'naprof', 1816, 'jelev1', 2075, 'e4,e5,d4,exd4,c3,d5,Qb3,Nf6,e5,Qe7,cxd4,Ne4,Nc3,Qb4,Nf3,Qxb3,axb3,Bb4,Bd2,Nxd2,Nxd2,c6,Bd3,Be6,Ra4,a5,Na2,b5,Rxb4,axb4,Nxb4,O-O,O-O,Rc8,Rc1,Bd7,Nf3,Na6,Nc2,Nc7,Ne3,Ra2,Rc2,Ra1+,Bf1,Rca8,h3,Ne6,Nf5,Rb1,Ne7+,Kf8,Nxc6,Bxc6,Rxc6,Raa1,Nd2,Rd1,Kh2,Rxd2,Bxb5,Rxf2', 'Rc8+,Nd8,Rxd8+,Ke7,Re8#', 'https://lichess.org/training/XbE1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xBfkN', 'Rapid', 'Freddie_Hayek', 1947, 'tsitsila', 1935, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,a3,cxd4,cxd4,Nc6,Nf3,Be7,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/xBfkN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XbFMP', 'Rapid', 'detayminant', 1673, 'ESRlll', 1664, 'e4,c5,Bc4,d6,Qf3,Nf6,Nc3,Bg4,Qf4,e5,Qg3,Nc6,Nd5,Be6,Nxf6+,Qxf6,Bxe6,Qxe6,Ne2,Nb4,Qc3,Nxa2,b3,Nxc3,Nxc3,Be7,Nd5,Qd7,d3,O-O,O-O,f5,exf5,Rxf5,f4,exf4,c4,Raf8,Bxf4,b5,Rae1,bxc4,Nxe7+,Kh8,Nxf5,Rxf5,dxc4,Kg8,Re4,Qb7,Re8+,Rf8', 'Rxf8+,Kxf8,Bxd6+,Ke8,Rf8+,Kd7,Rf7+,Kc6,Rxb7', 'https://lichess.org/training/XbFMP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XBgHT', 'Rapid', 'ramitraj', 1802, 'Pailai', 1802, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bf5,Nc3,Nxc3,bxc3,Nc6,Bb5,Bd7,O-O,a6,Ba4,e6,Bb3,Be7,Re1,O-O,Bb2,Na5,d5,Nxb3,cxb3,exd5,Qxd5,Be6,Qe4,Qd5', 'Qxd5,Bxd5,Rxe7', 'https://lichess.org/training/XBgHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xbhdv', 'Classical', 'Xiwrisch', 1857, 'sayyan', 1962, 'e4,c5,Bc4,Nc6,Nf3,Nd4,d3,Qc7,c3,Ne6,O-O,g6,Ng5,Bg7,Nxe6,dxe6,f4,Nf6,Nd2,O-O,Nf3,a6,a4,Bd7,Bb3,b5,axb5,axb5,Rxa8,Rxa8,Bc2,Bc6,Qe1,Ra1,Qh4,b4,Ng5,h6,Nf3,Nh5,c4,f5,Qf2,Nf6,Qxc5,Qb7,Ne5,b3,Bxb3,Qxb3,Qxc6,fxe4,Qxe6+,Kh7,dxe4', 'Rxc1,Rxc1,Qe3+', 'https://lichess.org/training/Xbhdv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xBHx0', 'Rapid', 'Alialbeaty94', 1659, 'tsitsila', 1653, 'e4,c5,f4,e6,Nf3,b6,Be2,Bb7,d3,Nf6,O-O,d5,e5,Nfd7,g4,d4,Nbd2,g6,Qe1,Bg7,Qg3,f6,exf6,Nxf6,g5,Nh5,Qg4,Bd5,Ne4,O-O,Ne5,Nd7,Bd2,Nxe5,fxe5,Bxe5,Rxf8+,Qxf8,Rf1,Qe7,Qg2,Rf8,Rxf8+,Qxf8,Bxh5,gxh5,Qh3,Qf7,b3,Bf4', 'Nf6+,Kf8,Bxf4', 'https://lichess.org/training/xBHx0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xbi9k', 'Blitz', 'grandb', 2023, 'CM Kumi', 2522, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,g6,Be3,Bg7,h3,O-O,Bd3,Nc6,Qd2,b6,h4,h5,Ne5,Nxe5,dxe5,Ng4,f4,Bb7,O-O-O,Bxg2,Rhg1,Bf3,Rdf1,Nxe3,Rxf3,Ng4,f5,Bh6,Rf4,Bxf4,Qxf4,c5,Ne4,Qd4,Rxg4,hxg4,Qh6,Qxe5,f6,exf6,h5,f5,hxg6,Qg7', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/xbi9k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XBiXO', 'Rapid', 'TJRoelofsz', 1954, 'iriyanto', 2292, 'e4,d6,d4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,Qd2,a6,h4,h5,Bh6,Nc6,Bxg7,Kxg7,O-O-O,b5,Qg5,b4,e5,bxc3,exf6+,exf6,Qg3,cxb2+,Kb1,Rh8,Nh3,Bf5,Nf4,Nb4,Bd3,Nxd3,Nxd3,Rb8,Qf4,Qd7,f3,Qb5,g4,hxg4,fxg4,Bxd3,Rxd3,Qd5,Rf1,Rxh4', 'Qxf6+,Kg8,Qxh4', 'https://lichess.org/training/XBiXO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XbkkA', 'Rapid', 'YANZKIE2007', 1879, 'Zuragui_64', 1894, 'd4,g6,Bf4,Bg7,Nc3,d5,Nb5,e5,dxe5,c6,Nc3,Be6,e3,Ne7,Nf3,Qa5,Be2,Qb4,a3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/XbkkA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xBnJk', 'Rapid', 'Renezarate', 1834, 'KRISH1729', 1766, 'c4,Nf6,Nc3,b6,e4,e5,Nf3,Nc6,d3,Bb4,Bg5,h6,Bxf6,Qxf6,a3,Bc5,Nd5,Qd8,b4,Bd4,Rb1,O-O,Be2,d6,O-O,Bg4', 'Nxd4,Nxd4,Bxg4', 'https://lichess.org/training/xBnJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XbovU', 'Blitz', 'SIPHAI', 1519, 'yetkin_alim', 1748, 'e4,e6,Nf3,b6,d4,Bb7,d5,exd5,exd5,Qe7+,Be2,Qb4+,Bd2,Qxb2,Bc3,Bb4,Qd4,Bxc3+,Qxc3,Qxc3+,Nxc3,Nf6,O-O-O,O-O,d6,cxd6,Rxd6,Bxf3,Bxf3,Nc6,Rxd7,Nxd7,Bxc6,Rad8,Rg1,Ne5,Be4,a5,f4,Ng6,f5,Ne5,g4,Rfe8,g5,Nc4,f6,g6,h4,Nd6,Bc6,Re6,Bd5,Re5,h5,gxh5,g6,hxg6,Rxg6+,Kh7,Rg7+,Kh6,Ne4,Nf5,Rxf7,Rdxd5,Nc3,Re1+,Kb2,Rd6,Nb5,Rde6,Nc7,R6e5,Na6,Kg6,Rg7+,Kxf6,Rh7,Rb5+,Ka3,Re3+,Ka4,Nd6,Rh6+,Ke7,Rh7+,Ke6,Rh6+,Kd5,Nc7+,Kc5,Nxb5,Nxb5,Rxh5+,Kc4,Rxb5,Kc3', 'Rb3+,Kd4,Rxe3,Kxe3,Kb5,Kd2,Kxb6', 'https://lichess.org/training/XbovU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xbP1m', 'Rapid', 'TheDailyChessPuzzle', 2027, 'DusanPlavsic', 1995, 'e4,d6,d4,g6,Nf3,Bg7,c4,Bg4,Be2,Nf6,Nc3,O-O,O-O,c6,Be3,a6,h3,Bxf3,Bxf3,e5,Qd2,b5,cxb5,axb5,Rfd1,Qe7,b4,Na6,dxe5,dxe5,a3,Rad8,Qc2,Rxd1+,Rxd1,Rd8,Nb1,Rxd1+,Qxd1,Qd7,Qxd7,Nxd7,Bg4,Nab8,Kf1,h5,Be2,f5,exf5,gxf5,Bxh5,f4,Bc1,Nf6,Bf3,Nd5,Ke2,Nd7,Kd3,N7f6,Nc3,Kf7,Ne4,Nxe4,Bxe4,Ke6,Bb2,Bf8,Bh7,Be7,Bg8+,Kf5,Bh7+,Ke6,Be4,Bd6,g4,fxg3,fxg3,Be7,h4,Bf6,h5,Bg5,g4,Nf4+,Kc2,Kd6,Bf5,Kd5,Kb3,Ne2,a4,Nd4+,Bxd4,bxa4+,Kxa4,Kxd4,Bd7,Kd5,b5,cxb5+,Bxb5,e4,Be2,Kd4,Kb3,Ke3,Bb5,Kf4,Bd7,e3,Kc2', 'e2,Kd2,Kf3+', 'https://lichess.org/training/xbP1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xBpYg', 'Rapid', 'andres34000', 1935, 'Luisvil', 1935, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,Bd6,Bg3,Nc6,c3,Ne7,Ngf3,Nf5,Bxd6,cxd6,Bd3,O-O,Qc2,a6,O-O,Re8,Rfe1,b5,a4,bxa4,Rxa4,Bd7,Ra3,Bb5,Bxf5,exf5,Qxf5,Qd7,Qxd7,Nxd7,Rea1,Nb6,b3,Rec8,Nb1,Bd3,b4,Bxb1,Rxb1,Nc4,Rab3,g6,Kf1,a5,bxa5,Nxa5,Rb5,Nc4,Rxd5,Rab8,Rdb5,Rxb5,Rxb5,Ra8,Ke2,Ra2+,Kd3,Nb2+,Ke4,Nd1,Rb3,Nxf2+,Kd5,Ra6,Rb8+,Kg7,Rd8,Ng4,Rxd6,Nxe3+,Ke5', 'Nc4+,Kd5,Nxd6', 'https://lichess.org/training/xBpYg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xBQur', 'Blitz', 'osa-stone', 1860, 'Bleddyn', 1714, 'e4,d5,exd5,Nf6,c4,c6,Nc3,cxd5,d4,dxc4,Bxc4,Bg4,f3,Bd7,Nge2,e6,O-O,Be7,Bf4,O-O,Rc1,Nc6,d5,exd5,Nxd5,Nxd5,Bxd5,Rc8,Nc3,Bf6,Re1,Qb6+,Kh1,Qxb2,Ne4,Qd4,Nxf6+,Qxf6,Qb3,Qxf4,Qxb7,Rfd8,Bxc6,Bxc6,Rxc6,Rb8,Qxa7,Qd2,Rf1,Qe2,Kg1,Rb2,Qf2,Qb5,Qc5', 'Qxf1+,Kxf1,Rd1#', 'https://lichess.org/training/xBQur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xBRaU', 'Rapid', 'orisko', 2100, 'carodej', 2136, 'e4,c5,c3,g6,d4,cxd4,cxd4,d5,e5,Nc6,Nf3,Bg4,Be2,Bxf3,Bxf3,e6,O-O,Qb6,Nc3,Qxd4,Qxd4,Nxd4,Bd1,Nc6,Bg5,a6,Re1,h6,Bf4,Bg7,Na4,Nge7,Nb6,Rd8,Ba4,O-O,Rac1,g5,Bg3,Kh7,a3,Kg6,b4,h5,h3,h4,Bh2,Rh8,Bc2+,Kh6,f4,Ng6,Bxg6,Kxg6,fxg5,Kxg5,Na4,Kg6,Nc5,Rb8,Nd3,Rbc8,Rc2,Kh7,Rf2,Kg8,Ref1,Rc7,a4,Rh5,Re1,b6,Rc2,Rh6,b5,axb5,axb5,Rg6,Rxc6,Ra7,Nf4,Rg5,Rxb6,Bxe5,Nd3', 'Bd4+,Kh1,Bxb6', 'https://lichess.org/training/xBRaU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xbt3b', 'Rapid', 'GregPro', 1978, 'AdmiralBright', 1839, 'e4,e5,Nf3,d5,Nxe5,Bd6,d4,dxe4,Qh5,Bxe5,Qxe5+,Qe7,Qxg7,Qf6,Bh6,Qxh6,Qxh8,Qc1+,Ke2,Qxc2+,Nd2,Kf8,Qxh7,Bg4+,Ke3,Nc6,Qxe4', 'Re8,Qxe8+,Kxe8', 'https://lichess.org/training/Xbt3b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xbT8a', 'Blitz', 'RyyaN', 2162, 'kazakirazboiniki', 2319, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,N1e2,e6,Nf4,Nf6,h4,Nd5,h5,Nxf4,Bxf4,Bf5,h6,Nd7,Be5,Nxe5,Nxf5,exf5,dxe5,Qa5+,Qd2,Qxe5+,Qe2,Qxe2+,Bxe2,g6,O-O-O,Bc5,g4,fxg4,Bxg4,O-O,Rd7,Rab8,f4,Be3+,Kb1,Bxf4,Rf1,Bxh6,Rc7,f5,Be2,Bg7,Bc4+,Kh8,Be6,f4,Bf7,g5,Rh1,h6,Rd1,Rfc8,Re7,Rd8,Rde1,a5,Rc7,Bf6,c3,b5,Re6,Bg7,Ree7,Rbc8,Rb7,Rb8,Rbc7,Bf6,Re6,Bg7,Rg6,Rdc8,Re7,b4,Be6,Rg8,c4,f3,Bf5,f2', 'Rxh6+,Bxh6,Rh7#', 'https://lichess.org/training/xbT8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XbuyY', 'Rapid', 'Dubolom228', 1969, 'ghabz29', 1990, 'c4,e6,Nc3,d5,cxd5,exd5,d4,Nf6,Bg5,Be7,Bxf6,Bxf6,Nf3,O-O,e3,Bg4,Be2,Nd7,Nd2,Bf5,Nxd5,c6,Nxf6+,Nxf6,O-O,Re8,Nc4,Qc7,b4,Rad8,a4,Ne4,Ne5', 'Rxe5,dxe5,Rxd1', 'https://lichess.org/training/XbuyY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XbVSS', 'Blitz', 'jorgeleon', 1935, 'dfcbkmtdbx', 1967, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,Bxg5,hxg5,Qxg5,Nh3,Qh6,Bd3,a6,Ne2,c5,c3,Nc6,f4,cxd4,cxd4,Qh4+,g3,Qd8,Rc1,Qa5+,Kf2,Qxa2,Qd2,Qb3,f5,exf5,Bxf5,Nf8,Bxc8,Rxc8,Nhf4,Ne6,Rc3,Qb6,Nxe6,fxe6,Kg2,O-O,g4,Rf7,Rch3,g6,Qh6,Qxb2,Qxg6+,hxg6', 'Rh8+,Kg7,R1h7#', 'https://lichess.org/training/XbVSS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xbXDm', 'Rapid', 'homer-navarro', 1812, 'Vicious97', 1650, 'd4,d5,Bf4,Nc6,e3,e6,Nf3,Bd6,Bg3,Bxg3,hxg3,Nf6,Bb5,O-O,Bxc6,bxc6,O-O,Ba6,Re1,Ne4,Nbd2,f5,Ne5,Qe8,Nb3,Rb8,Rb1,Bc4,Nxc4,dxc4,Nd2,Qf7,c3,Nxd2,Qxd2,Rbd8,Qe2,e5,dxe5,Rfe8,f4,g5,Qf3,Qd5,Qd1,gxf4,exf4', 'Qc5+,Kf1,Rxd1', 'https://lichess.org/training/xbXDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xbzln', 'Blitz', 'a5271nj', 2088, 'jack1942', 2069, 'd4,d6,c4,e5,dxe5,dxe5,Qxd8+,Kxd8,Nf3,f6,Nc3,Be6,e4,c6,Be3,Kc7,Be2,Bb4,Bd2,Nh6,h3,Nf7,a3,Bxc3,Bxc3,Nd6,Nd2,Na6,b4,Rad8,f3,c5,b5,Nb8,a4,Nd7,a5,b6,Kf2,bxa5,Rxa5,Kb7,Ra6,Nb6,Rha1,Ra8,Nb3,Rhc8,Na5+,Kc7,Nc6,Ndxc4,g4,Nd6,Ba5,Kb7,Bxb6,axb6', 'Ra7+,Rxa7,Rxa7#', 'https://lichess.org/training/Xbzln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xBzzg', 'Rapid', 'Kpleon', 1823, 'tstd', 1849, 'd4,d6,Bf4,Nf6,e3,g6,c3,Bg7,Bd3,O-O,Nd2,b6,h4,e5,dxe5', 'dxe5,Bxe5,Qxd3,Bxf6,Bxf6', 'https://lichess.org/training/xBzzg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xc0a1', 'Bullet', 'blancoj3000', 1816, 'Happy-Edward', 1815, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Bb4,Bc4,a6,O-O,Bxc3,bxc3,Ne7,Ba3,b5,Bb3,O-O,Ng5,h6,f4,hxg5,fxg5,Ng6,Bxf8,Qxf8,Qh5,Qc5+,Kh1,Bb7,Rxf7,Qxc3,Raf1,Bxe4,Bd1,Nc6,Bf3,Bxf3,R7xf3,Qc2,Qg4,Nce5,Qg3,Qxa2,R3f2,Qd5,h4,Rf8,Rxf8+,Nxf8,Qf4,Qd6,h5,b4,g6,b3,Qg5,Qd3', 'Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/xc0a1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xc3j4', 'Classical', 'Tamer-lenk', 2130, 'IchBinFett04', 1949, 'e4,d5,exd5,Nf6,d4,Bg4,Nf3,Qxd5,Nc3,Qf5,Bd3,Qh5,Be3,Bxf3,Qxf3,Qxf3,gxf3,Nc6,O-O-O,O-O-O,Bc4,e6,Rhg1,h6,h4,Rg8,Ne4,Be7,c3,Na5,Nxf6,Bxf6,Bd3,Nc6,h5,Ne7,Be4,Nd5,c4,Ne7,Rd3,Nf5,Rgd1,Rge8,Rb3,c6,d5,Nxe3,fxe3,exd5,cxd5,cxd5,Bxd5,Re7,Bxb7+', 'Rxb7,Rxd8+,Bxd8', 'https://lichess.org/training/Xc3j4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XC58r', 'Rapid', 'PawnIntended90', 1737, 'konstnaso', 1694, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Nxd4,Nf6,Nc3,Be7,O-O,O-O,Re1,c6,Be3,b5,Bb3,a5,a3,Qd7,h3,Bb7,Nf5,Bd8,Qd2,b4,axb4,axb4,Rxa8,Bxa8,Na4,c5,Bxh6,Nxe4,Qf4,gxh6,Nxh6+,Kh7,Nxf7,Rxf7,Bxf7,Bf6,Rxe4,Bxe4,Qxe4+,Kg7,Qg6+,Kf8,Qxf6,Qxf7,Qh8+,Qg8,Qf6+,Qf7,Qd8+,Qe8,Qxe8+,Kxe8,Nb6,Nc6,g3,Nd4,Nc4,Ke7,Ne3,Ke6,f4,Nf5,Kf2,Nxe3,Kxe3,d5,g4,d4+,Ke4,Kd6,g5,Ke7,h4,Kd7,h5,Ke7,h6,Kf7,Kd5', 'b3,cxb3,d3', 'https://lichess.org/training/XC58r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XC5jm', 'Rapid', 'Navigat13', 1915, 'lutekhin', 1936, 'b3,e6,Bb2,b6,g3,Bb7,Nf3,h5,Bg2,h4,gxh4,Nf6,d3,Nc6,Ne5,Rxh4,Nd2,Bd6,Ndc4,Ng4,Nxd6+,cxd6,Nxc6,dxc6,h3,Nf6,e4,e5,Qd2,Nh5,O-O-O,Nf4,Rdg1,Qf6,Bf3,Rxh3,Rxh3,Nxh3,Rg3,Nf4,Qe1,O-O-O,Qg1,g6,Qh1,d5,exd5,cxd5,Rg4,Qf5,Rh4,e4', 'Bg4,Qxg4,Rxg4', 'https://lichess.org/training/XC5jm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xC6Oy', 'Rapid', 'ferflo8', 1739, 'juan_9617', 1886, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,d3,O-O,Re1,d6,c3,Bg4,h3,Bh5,Nbd2,a6,a4,h6,Nf1,Rb8,Be3,d5,exd5,Nxd5,Bxd5,Qxd5,Qd2,Bxf3,Bxh6,Bxg2,c4,Qe6,Bxg7,Qxh3,Nh2,Bf3,Nxf3,Qg4+,Kf1,Qxg7,Qe3,Rfd8,Ke2,Kf8,Rg1,Qh7,Rh1,Qf5', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/xC6Oy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xC7zy', 'Rapid', 'sudawirat', 1870, 'blunderbot_9000', 1838, 'e4,c5,Bc4,e6,Nf3,Nc6,Nc3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nf6,Nxc6,bxc6,O-O,O-O,Bg5,d5,e5,dxc4,exf6,Bxf6,Bxf6,Qxf6,Ne4,Qxb2,f4,Ba6,Qf3,Qxc2,Nf6+,Kg7,Ng4,Rab8,Qxc6,Rb2,Ne3,Qd3,Qxa6,Qxe3+,Kh1,Qe2,Rg1,c3,Qxa7,c2', 'Qd4+,Kg8,Qxb2', 'https://lichess.org/training/xC7zy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XC8IS', 'Rapid', 'dotheyknow', 1623, 'mrm2000', 1637, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bg5,Nxd4,Qxd4,h6,Bh4,Be7,f3,Nh5,Bxe7,Qxe7,e5,O-O,g4,Qh4+,Kd2,Qg5+,Qe3,Qxe3+,Kxe3,b6,gxh5,f5,Bg2,Bb7,Kf2,d6,exd6,Rad8,Rhd1,Bc6,a3,f4,b4,Rf5,a4,Rxh5,h3,Kh7,b5,Bb7,Ne2,Rc5,Ra2,e5,a5,Bd5,Ra4,Rxb5,Nc3,Rc5,Nxd5,Rxc2+,Ke1,Rxg2,axb6,axb6,Nxb6', 'Rg1+,Ke2,Rxd1,Kxd1,Rxd6+,Ke2,Rxb6', 'https://lichess.org/training/XC8IS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xc9oZ', 'Rapid', 'AhmetErsoy', 1878, 'Evgeniy200', 1884, 'Nf3,Nc6,g3,Nf6,d4,d5,Bg2,Bf5,O-O,e6,Re1,Nb4,Na3,Nc6,b3,a6,c4,dxc4,bxc4,Bb4,Bd2,Bxd2,Qxd2,O-O,Qc3,Ne4,Qb2,Qf6,e3,Rfe8,Nd2,Nxd2,Qxd2,Rab8,e4,Bg6,e5,Qe7,d5,Nxe5,Rxe5,Qxa3,dxe6,Rxe6,Rxe6,fxe6,Re1,Bf7,Qd7,Qd6,Qa4,Qc5,Rb1,b5,Qxa6,Qxc4,Bf1,Qe4,Rxb5,Rxb5', 'Qc8+,Be8,Qxe8#', 'https://lichess.org/training/Xc9oZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCahy', 'Classical', 'Macaco202', 1650, 'depense', 1621, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bf4,Nd7,Bd3,Bg6,Bxg6,hxg6,Nc3,c5,Ng5,cxd4,Qxd4,Bc5,Qd2,Ke7,O-O-O,d4,Nce4,Qb6,Nd6,Nh6,c3,dxc3,Nf5+,Nxf5', 'Qxd7+,Kf8,Qxf7#', 'https://lichess.org/training/xCahy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xcaJi', 'Rapid', 'SNMW', 2119, 'lintangbinlin', 2152, 'd4,d5,Nf3,e6,e3,c5,b3,Nc6,Bd3,a6,Bb2,cxd4,exd4,b5,a3,Nf6,Nbd2,Bd6,Ne5,Qc7,f4,O-O,O-O,Nd7,Qh5,f5,Ndf3,Nf6,Qh3,Ne4,Bxe4,fxe4,Nh4,Nxe5,fxe5,Be7,Rxf8+,Bxf8,c3,g6,Rf1,Qg7,Qg3,g5,Bc1,Be7,Nf3,exf3,Rxf3,Bb7,Qg4,Qg6,Rf2,Rf8,Rxf8+,Kxf8,Qf3+,Kg7,Qe2,Bc6,c4,dxc4,bxc4,bxc4,Qxc4,Qe4,Qf1,Qxd4+,Kh1,Qxe5,Qf2,Bd6', 'Bb2,Qxb2,Qxb2+', 'https://lichess.org/training/xcaJi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XCc3r', 'Rapid', 'Mercuryjon', 1857, 'emad-dibbini', 1887, 'e4,c5,Nf3,e6,c3,Nc6,Bb5,Nge7,O-O,a6,Be2,e5,Re1,d6,d4,cxd4,cxd4,exd4,Nxd4,g6,Nc3,Bg7,Be3,O-O,Rc1,Bd7,Qd2,Rc8,Bh6,Nxd4,Bxg7,Nxe2+,Nxe2,Kxg7,Nf4,Rxc1,Rxc1,Bc6,f3,Qb6+,Kh1,Rd8,Nh3,h6,Nf2,g5,Ng4,Ng6,Qc3+,Ne5,Nxe5,dxe5,Qxe5+,f6,Qe7+,Kg6,b3,Rd7,Qe6,Qd4,h3,Kg7,h4,gxh4,Qg4+,Kf8,Qxh4,Qe3,Qxf6+,Rf7,Qd6+,Kg7,Qe5+,Kg8,Rd1,Qg5,Rd8+,Rf8,Qe6+,Kg7,Rd6,Qh4+,Kg1,Qe1+,Kh2,Qh4+,Kg1,Qg5,Kf2,h5,Qc4,h4,Qd4+,Rf6,Re6,h3,gxh3,Qh4+,Ke2,Bb5+,Kd2,Qf4+,Kc2,Qxf3,Re7+,Kh6,Qd2+,Kg6,Kb2,Qf4,Qg2+,Qg5', 'Rg7+,Kxg7,Qxg5+', 'https://lichess.org/training/XCc3r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XccPD', 'Blitz', 'Cristian70', 2004, 'kbrnt_19', 1870, 'd4,Nf6,c4,e6,Nf3,c5,Nc3,cxd4,Nxd4,Bb4,Qc2,O-O,e3,Nc6,Be2,Nxd4,exd4,d5,Be3,Re8,O-O,Bxc3,bxc3,b6,cxd5,Nxd5,Bd2,Bb7,Bf3,Rc8,Qd3,Qe7,Rfe1,h6,a4,Nf6,Bxb7,Qxb7,c4,Red8,Be3,Nd7,Qb3,Qa6,Rec1,Nf6,Qb5,Qxb5,axb5,Rd7,c5,Nd5,c6,Rdc7,Bd2,Kf8,f3,Ke7,g3,Kd6,Ra4,g5,Rca1,Ra8,Kf2,a5,bxa6,b5,Ra5,b4,Ke2,Rxc6,Kd3,Nc3,a7,Rc7,Ra6+,Kd7,f4,f6,h4,gxf4,Bxf4,Rb7,Bxh6,Nb5,Kc4,b3,Rb1,Nxa7,Rxb3', 'Rc8+,Kd3,Rxb3+', 'https://lichess.org/training/XccPD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xccXD', 'Blitz', 'yetgarcia', 1897, 'Levskarq11', 1906, 'e4,e5,Bc4,Nc6,d3,Nf6,Ne2,Bc5,f3,O-O,c3,d5,exd5,Nxd5,b4,Be7,a4,Be6,O-O,Bg5,Na3,Bxc1,Qxc1,a6,Nc2,Qf6,Bxd5,Bxd5,c4,Be6,b5,axb5,axb5,Ne7,Qe3,Nf5,Qc5,Rfc8,Rxa8,Rxa8,Nc3,Rc8,Ne4,Qg6,Ne3,Nxe3,Qxe3,Bh3,Rf2,Bf5,Qa7,Bxe4,dxe4,Rd8,Qxb7,Qg5,Qxc7', 'Rd1+,Rf1,Qe3+,Kh1,Rxf1#', 'https://lichess.org/training/xccXD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCcZs', 'Rapid', 'Regislian', 1971, 'SDBM59', 1966, 'd4,c6,Nf3,e6,c4,Nf6,Nc3,Be7,e4,d6,Bd3,O-O,O-O,Nbd7,h3,Nb6,Be3,d5,cxd5,exd5,e5,Ne8,b3,f6,Qc2,fxe5,Bxh7+,Kh8,Nxe5,Nf6,Bg6,Be6,Ne2,Nbd7,Nf4,Bg8,Nxd7,Qxd7,Bf5,Bh7,Bxh7,Nxh7,Ng6+,Kg8,Nxf8,Rxf8,f4,Nf6,f5,Ne4,Bf4,Qxf5,Be5,Qg6,Rxf8+,Bxf8,Rf1,Bb4,Kh2,Bc3,Rf4,Qg3+,Kg1,Bxd4+,Kf1', 'Bxe5,Rxe4,dxe4', 'https://lichess.org/training/xCcZs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCd3Y', 'Rapid', 'aboardlover', 1870, 'megatyp', 1868, 'd4,Nf6,c4,e6,Nf3,c5,d5,exd5,cxd5,d6,Nc3,g6,e4,Bg7,Bd3,O-O,O-O,b6,Bg5,h6,Be3,Na6,a3,Nc7,Qd2,Kh7,Rad1,Bg4,h3,Bxf3,gxf3,Re8,Kh2,g5,e5+,Kh8,exf6,Bxf6,Bb1,b5,Qd3,Kg8,Rfe1,Be5+,Kg2,Qf6,Ne4,Qf5,Ng3,Qxd3,Rxd3,c4,Rdd1,Bxb2,Bd4', 'Rxe1,Rxe1,Bxd4', 'https://lichess.org/training/xCd3Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCDAi', 'Blitz', 'EbramSalib', 1839, 'Pallabi1234', 1817, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,d6,h3,h6,O-O,O-O,Be3,Bxe3,fxe3,Be6,Nd5,Na5,Nxf6+,Qxf6,Bxe6,fxe6,d4,Qe7,d5,b6,b4,Nb7,c4,Rac8,Qc2,a6,Rac1,c6,a3,g6,dxe6,Qxe6,Nh4,Rxf1+,Rxf1,Kg7,c5,dxc5,bxc5,Nxc5,Qb2,Rb8,Nf3,Nd7,Rd1,Kh7,a4,b5,axb5,axb5,Qb4,Re8,Rd6,Qe7,Qd2,Nf6,Rxc6,Nxe4,Qd3,Nf6,Rd6,e4,Qd4,exf3,Rxf6,fxg2,Kxg2,Qxe3', 'Rf7+,Kg8,Qg7#', 'https://lichess.org/training/xCDAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCdgp', 'Classical', 'shruti17', 1811, 'shardulme', 1737, 'e4,b6,d4,Bb7,Nc3,e6,a3,Nf6,Bd3,c5,dxc5,Bxc5,Nf3,Nc6,Bg5,h6,Bh4,g5,Bg3,Nh5,Qd2,Nxg3,hxg3,Qf6,O-O-O,O-O-O,Rhe1,Ne5,Nxe5,Qxe5,f4,gxf4,gxf4,Qg7,Bb5,d5,exd5,Bxd5,Nxd5,Rxd5,Qe2,Rhd8,Bc6,Rxd1+,Rxd1,Rxd1+,Qxd1,Qd4,Qxd4,Bxd4,Kb1,Kd8,g3,Bf2,g4,Ke7,f5,e5,Kc1,Kf6,Kd2,Kg5,Ke2,Bg3,Kf3,Bf4,b4,Bc1,a4,a5,bxa5,bxa5,c4,Ba3,Ke4,f6,Kf3,Bc5,Be8,Ba3,Bh5,Bb4,Ke4,Ba3,Kd5,Kf4', 'c5,Bxc5,Kxc5', 'https://lichess.org/training/xCdgp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCDk3', 'Rapid', 'DannyLenny', 1690, 'randomalbumtitle', 1724, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,d5,Bd3,Ne4,cxd4,Nxd4,Nxd4,Bxd4', 'Qa4+,c6,Qxd4', 'https://lichess.org/training/xCDk3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XCETm', 'Blitz', 'ars1734', 1734, 'NestorKC', 1985, 'e4,c5,d3,d6,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,Nbd2,Nc6,Re1,Qc7,Nf1,b5,a3,Bb7,Rb1,a5,Bf4,Nh5,Be3,Rfd8,Qd2,Rac8,Bh6,Bh8,Ng5,Ne5,Qe2,Qd7,Bh3,e6,Ne3,Re8,c3,f6,Nf3,Nf7,g4,e5,gxh5,Qxh3,hxg6,hxg6,Kh1,Nxh6,Rg1,Kh7,Rg3,Qh5,Rbg1,Rg8,Qf1,g5,Rh3,Qg6,Nh4,Qf7,Nhf5,Bg7,Ng4,d5,Ngxh6,Bxh6,Nxh6,Qe6,Nf5+,Kg6,Rh6+,Kf7,Rh7+,Kf8,Rxb7,dxe4,Qh3,exd3,Qh6+,Ke8,Re7+,Qxe7,Nxe7,Kxe7,Qh7+,Ke6,Qxd3,c4,Qh3+,Ke7,Rd1,Rcd8,Rxd8,Rxd8,Qe3,Ke6,Qb6+,Rd6,Qxb5,f5,Qxc4+,Kf6,Qc7,Rd2,Qxa5,f4,Kg2,g4,b4,Kf5,c4,Rd3,c5,f3+,Kg3,Rd1,c6,Rg1+,Kh4,Rg2,Qc5,Rxh2+,Kg3,Rg2+,Kh4', 'Rh2+,Kg3,Rh3#', 'https://lichess.org/training/XCETm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xcf4Y', 'Rapid', 'Deepdrawing', 1869, 'MarkZela', 1887, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,Nf6,Nd2,Nc6,c3,Qe7,Ngf3,Bxg3,hxg3,Bd7,Bd3,h6,Ne5,O-O-O,f4,Nxe5,fxe5,Ne8,Nf3,f6,Qd2,f5,O-O-O,g5,Qe2,Kb8,Nd2,c5,Bb5,Nc7,Bxd7,Qxd7,Kb1,c4,g4,Rdf8,g3,a5,Rh2,Rf7,Nf3,a4,Nxg5,Rg7,Nh3,a3,gxf5,Rxg3,Nf4,axb2,Qxb2,exf5,Nh5,Rxe3,Nf6,Qb5,Rc1,f4,Qxb5,Nxb5,Nxd5,Rf3,Rh4,Na3+,Kb2,Nb5,Nxf4,Rf2+,Ka1,Rf8,Nd5,R8f3,Rxh6,Rg2,e6,Rff2,Nb4,Re2,Rh7,Kc8,e7,Kd7,d5,Rxe7,Rxe7+,Kxe7,Re1+,Kd7,Re4,Nxc3,Rxc4,Rg1+,Kb2,Nb5,a4,Nd6,Rc2,Rg4,Kb3,Rg3+,Rc3,Rg1,a5,Rb1+,Ka4,Ra1+,Ra3,Rd1,Kb3,Nb5,a6,Nxa3', 'a7,Nb5,a8=Q', 'https://lichess.org/training/xcf4Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XCgDU', 'Blitz', 'BrunoOliver', 2184, 'AHHHHHHHHH99', 1936, 'd4,Nf6,c4,c5,d5,e5,Nc3,d6,e4,Be7,g3,a6,Bg2,b5,cxb5,Nbd7,Nge2,axb5,Nxb5,Qa5+,Nbc3,c4,Bd2,Nc5,O-O,Bg4,Qc2,Qb6,Be3,O-O,h3,Bh5,Kh2,Rfb8,f4,Bxe2,Qxe2,Qxb2,Qxc4,exf4,Bxc5,fxg3+,Kxg3,Rc8,Qb4,Qd2,Nb5,Qg5+,Kh2,Rxc5,Nd4,Nd7,Nc6,Bf6,Rf5,Qxf5,exf5,Bxa1,Qb7,Rxa2', 'Qc8+,Nf8,Ne7+,Kh8,Qxf8#', 'https://lichess.org/training/XCgDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XCggW', 'Rapid', 'And99', 1883, 'Lucches', 1871, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nf5,Bxf5,exf5,d5,g4,h6,g5,hxg5,Bxg5,Bb4,Bd2,e4,Be2,Nc6,Na4,Qd7,Bxb4,Nxb4,Nc3,Qxf5,Qd2,Ng4,Bxg4,Qxg4,Nxd5,Rd8', 'Nc7+,Ke7,Qxb4+', 'https://lichess.org/training/XCggW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCglq', 'Classical', 'VladislavAlekseevich', 1726, 'Djah', 1733, 'e4,e5,f4,exf4,Nf3,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Bg4,h3,Bxf3+,gxf3,g5,h4,f6,Nc3,a6,Nd5,Bd6,b3,Nc6,Bb2,Be5', 'Bxe5,Nxe5,Nxc7+', 'https://lichess.org/training/xCglq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XCgO1', 'Rapid', 'Sergnik', 1744, 'falseagent', 1904, 'Nf3,g6,e4,Bg7,d4,d6,Bd3,Nd7,c3,c6,Nbd2,Qc7,O-O,Ngf6,Re1,O-O,h3,e5,dxe5,dxe5,Nc4,Re8,Bg5,b5,Ne3,Nc5,Qd2,Ncxe4,Bxe4,Nxe4,Qc2,Nxg5,Nxg5,h6,Nf3,f5,Qb3+,Be6,c4,a5,Qc2,b4,b3,e4,Nh2,Be5,Rad1,Bxh2+,Kh1,Bf4,g3,Bxe3,Rxe3,Rad8,g4,Rxd1+,Qxd1,Rd8,Qe2,Qe5,f3,Qf4,fxe4,fxg4,h4,g3,Kg2,h5,Rf3,Qxh4,Rxg3,Qf4,Rxg6+,Kf7,Qxh5,Rd2+,Kh1,Qxe4+,Rg2+,Ke7,Qc5+,Kf6,Qg5+,Kf7,Qxd2,Bg4,Qf2+,Ke6,Kh2,Qh7+,Kg1,Qb1+,Qf1', 'Qxf1+,Kxf1,Bh3,Kg1,Bxg2,Kxg2,Ke5', 'https://lichess.org/training/XCgO1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xcGt4', 'Classical', 'kanoshy', 1828, 'Vinayakiyer', 1830, 'e4,c6,Nf3,d5,exd5,cxd5,h3,Bf5,d4,e6,a3,Nf6,Bg5,Be7,Nc3,O-O,Bd3,Ne4,Bxe7,Qxe7,Bxe4,dxe4,Ne5,Nd7,Nxd7,Qxd7,O-O,Rad8,Ne2,Qb5,b4,e5,c3,Qc4,Rc1,Rd7,Ng3,Bg6,Qg4,f5,Qg5,exd4,cxd4,Qxd4,Rfd1,Qxd1+,Rxd1,Rxd1+,Kh2,f4,Ne2,e3,fxe3,fxe3,Qxe3,b6', 'Qb3+,Rf7,Qxd1', 'https://lichess.org/training/xcGt4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XChGd', 'Rapid', 'Krudee', 1984, 'rashad704', 1968, 'e4,d6,d4,Nc6,Ne2,e5,d5,Nce7,c4,f5,exf5,Nxf5,Ng3,Nxg3,hxg3,Be7,Bd3,Nf6,Bg5,Qd7,Bxf6,Bxf6,Bg6+,Kd8,Rxh7,Rxh7,Bxh7,Qf7,Be4,g6,Nc3,Bf5,Qf3,Bg5,g4,Qh7,Ke2,Bd7,Qd3,Bxg4+,f3,Bf5,Rf1,Bf4,Kd1,a6,Ne2,Qh2,Rf2,Ke7,Bxf5,gxf5,Qxf5,Re8,Nxf4', 'Qg1+,Kd2,Qxf2+', 'https://lichess.org/training/XChGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xchKb', 'Rapid', 'kuldeep3', 2167, 'Marcosales', 2181, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,Bg5,h6,Bh4,Be6,Nbd2,Nbd7,c3,c6,Rc1,Re8,Re1,a5,Bb1,Qc7,Bg3,Bxg3,hxg3,Ng4,Nf1,Ndf6,Ne5,Nxe5,Rxe5,Bg4,f3,Bd7,Rxe8+,Rxe8,Qd2,Qd6,Re1,Re6,Kf2,a4,g4,Rxe1,Qxe1,Qf4,Qe3', 'Nxg4+,Ke2,Nxe3', 'https://lichess.org/training/xchKb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCiCM', 'Rapid', 'Neman69', 1765, 'wonderL', 1696, 'g3,d5,Bg2,e5,e4,d4,d3,Be7,Nf3,Nc6,O-O,Nf6,c3,dxc3,bxc3,Bg4,Qd2,Bxf3,Bxf3,O-O,Ba3,Bxa3,Nxa3,Qd6,Nc4,Qc5,Rfb1,Rad8,Rxb7', 'Qxc4,dxc4,Rxd2', 'https://lichess.org/training/xCiCM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xcipL', 'Classical', 'joprak', 1610, 'Mohammed_gdeeri', 1684, 'g4,c5,Bg2,g6,c4,Bg7,e4,Nf6,e5,Ng8,f4,d6,Qa4+,Nc6,Bxc6+,bxc6,Qxc6+,Bd7,Qb7,Bxg4,Ne2,dxe5,Nbc3,Nh6,Ne4,O-O,Nxc5,Bxe2,Kxe2,exf4,Nd7,Re8,d3,e5,Qd5,Rc8,Bd2,Re7,Ba5,Qxd7,Bb4,Qxd5,cxd5,Rd7,d6,Rc2+,Kd1,Rxb2,Ba3,Rb6,Bc5,Rc6,Rc1,Nf5,Ke2,Nd4+,Kf2,Ne6,Ba3,Rxc1,Rxc1,Bf8,Rc8,Nd8,Rc7,Rxd6,Bxd6,Bxd6,Rd7,Bc5+,Kf3,Ne6,Rd5,Kg7,Rxe5,g5,Ke4,h5,a4,Kf6,Rf5+,Kg6,Ke5,Ng7,Rf6+,Kh7,Rxf7,Kg6,Rf6+,Kh7,Kd5,Ba3,Rf7,Kg6,Rxa7,f3,Rb7,Bc1,Rb1,Be3,Ke4,Bf4,Kxf3,Bxh2,a5,g4+,Kg2,Be5,a6,Bd4,Rb4,Nf5', 'Rxd4,Nxd4,a7', 'https://lichess.org/training/xcipL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XciY1', 'Classical', 'Christos-Pap', 1642, 'BabiecaB', 1660, 'e4,c5,Bc4,d6,b3,Nc6,Bb2,Ne5,d4,Nxc4,bxc4,cxd4,Bxd4,e5,Bb2,Nf6,Nf3,Nxe4,Qe2,Nf6,O-O,Qb6,Bxe5,dxe5,Nxe5,Qe6,Nc3,Be7,Nb5,Bd6,Rad1,Qxe5', 'Nxd6+,Kf8,Qxe5', 'https://lichess.org/training/XciY1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCkET', 'Blitz', 'aranguibelr', 2200, 'Gollobarinas2', 2054, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bb3,Nd4,O-O,Nxb3,axb3,Qxd5,Nc3,Qc6,d4,Bb7,f3,O-O-O,Qe2,exd4,Nxb5,Bc5,Qc4,d3+,Kh1,d2,Bxd2,Rxd2,Rxa7,h5,Nxf7,Rf8,Ne5,Qd5,Rxb7,Kxb7,Qa4,Qxe5,Ra1,Rfd8', 'Qa6+,Kb8,Qa8#', 'https://lichess.org/training/xCkET');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xclbm', 'Rapid', 'markjohnston', 1669, 'STJ202000', 1673, 'd4,d5,c4,Nf6,Nf3,Bg4,h3,Bf5,Nc3,dxc4,e3,e6,Bxc4,Bb4,Bd2,O-O,a3,Bxc3,bxc3,h6,O-O,Nc6,Qe2,a6,Bd3,Bxd3,Qxd3,Re8,Qe2,e5,Bc1,exd4,cxd4,Nxd4,Nxd4,Qxd4,Bb2,Qd6,Qf3,Rad8,Qxb7', 'Rb8,Qa7,Rxb2', 'https://lichess.org/training/xclbm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XCLcr', 'Rapid', 'Megagys', 1980, 'Dmytro123', 1911, 'e4,c5,Bc4,Nc6,Nf3,e6,d4,d5,exd5,exd5,Bb5,a6,Bxc6+,bxc6,dxc5,Bxc5,O-O,Ne7,Bg5,O-O,Re1,Qc7,Bxe7,Bxe7,Nc3,Bg4,Qd3,Rfe8,h3,Bh5,Ne2,Bf6,c3,a5,Ned4,Bg6,Qd2,Rad8,Nb3,c5,Re2,a4,Nc1,Re6,Nd3,Rde8,Rae1,Be4,Nf4,Rd6,Nxd5,Qc6,Rxe4,Rxe4,Rxe4,h6,Nxf6+,gxf6,Qxh6,Rd1+,Kh2,Qxe4,Qxf6,Rd5,Ng5', 'Qe5+,Qxe5,Rxe5', 'https://lichess.org/training/XCLcr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xcniX', 'Rapid', 'dake78', 1668, 'Hussaini786', 1906, 'e4,d5,f4,dxe4,Bc4,Bf5,c3,e6,Qb3,Qc8,Ne2,Bd6,Ng3,Bg6,O-O,Ne7,f5,exf5,Nxf5,Nxf5,g4,Nh4,Bxf7+,Kd7', 'Be6+,Kd8,Bxc8', 'https://lichess.org/training/xcniX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XCOKS', 'Rapid', 'Mataro3', 1834, 'ncforever', 1893, 'd4,d5,c4,e6,Nc3,Nf6,g3,c6,cxd5,Nxd5,Bg2,Nd7,e4,Nxc3,bxc3,Nf6,Ne2,Be7,O-O,O-O,c4,h6,h3,Bd7,Be3,b6,a4,Ne8,d5,cxd5,cxd5,exd5,exd5,Bd6,Nd4,Be5,Rc1,Rc8,Nc6,Bxc6,dxc6,Qxd1,Rfxd1,Nf6,Bd4,Bxd4,Rxd4,Rfd8', 'Rxd8+,Rxd8,c7', 'https://lichess.org/training/XCOKS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XcOpD', 'Bullet', 'Chenkmiester', 1847, 'boncas', 1856, 'c4,e5,g3,Nc6,Bg2,f5,b3,d6,Bb2,Nf6,e3,a5,Nc3,Be6,Nge2,Be7,O-O,O-O,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd2,Qc7,Nd5,Nxd5,Bxd5,Bxd5,Qxd5+,Kh8,Rfd1,Rad8,Rd2,Bf6,Bxf6,Rxf6,Rad1,g5,Qg2,Kg7,Rd5,Rdf8,f4,h6,R1d3,g4,Qd2,Rd8,Qc3,Kg6,Rd2,h5,Qd3,Qd7,e4,fxe4,Qxe4+,Kh6,Rxc5,Re8,Qc2,Qe7,Rcd5,Qe3+,Kg2', 'Qf3+,Kg1,Re1#', 'https://lichess.org/training/XcOpD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xcq10', 'Rapid', 'DarkDeuxious', 1823, 'Emiriwnl', 1846, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Bd6,Bd3,O-O,O-O,Bg4,c4,Qh5,Be4,Re8,Bxb7,Nd7,Bxa8,Rxa8,c5,Bf8,Bxf4,Nf6,Qd3,Nd5,Bg3,c6,Ne5,Be2,Qf5,Qxf5,Rxf5,g6,Rf2,Bb5,a4,Ba6,Nxc6,Bb7,Ne5,f6,Nc4,Rd8,b4,Nxb4,Rb1,Nc6,Rxb7,Nxd4,Rd2,Bxc5,Bf2,Kf8,Rb5,Ne2+,Rxe2', 'Rd1+,Re1,Rxe1#', 'https://lichess.org/training/xcq10');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xcqff', 'Blitz', 'Vitall84', 2040, 'GG_Alien', 1667, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,c6,Bf4,d6,e3,Bf5,Bd3,Bg4,Be2,a5,O-O,Na6,h3,Bf5,Bd3,Be6,a3,Nc7,b4,axb4,axb4,O-O,Qc2,Qd7,Qb2,Rac8,c5,dxc5,bxc5,Na6,Na4,Nd5,Bg3,f5,Be5,f4,Bxg7,Kxg7,Be4,fxe3,Bxd5,exf2+,Rxf2,Bxd5,Nb6,Qe6,Nxc8,Rxc8,Qxb7,Nc7,Raf1,Rf8,Ne5,Rxf2,Rxf2,Ne8,Nd7,Qe3,Ne5,Qe1+,Rf1,Qe3+,Kh1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/Xcqff');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XCQJf', 'Blitz', 'vixan', 1865, 'kudbany1', 1976, 'd4,d5,Bf4,Nf6,e3,g6,Be2,Bg7,Nd2,O-O,h4,h5,Ngf3,Bg4,c3,Re8,Qb3,b6,Bb5,Bd7,Bd3,c5,Bg5,c4,Nxc4,dxc4,Bxc4,e6,Ne5,Nc6,Bd3,Qc7,Bf4,Nd5,Nxg6,Nxf4,Nxf4,e5,Nxh5,exd4,cxd4,Nxd4,Qd1,Qe5,Nxg7,Qxg7,O-O,Bh3,g3,Bg4,Qa4,Nf3+,Kh1,Nxh4,Be4,Qh6,gxh4,Qxh4+,Kg1,Qg5,f4,Qh4,Bg2,Qg3,Rf2,Kg7,Kf1,Rh8,Bxa8,Rxa8,Qd4+,f6,Qe4,Rh8,Rg2', 'Rh1+,Rg1,Rxg1#', 'https://lichess.org/training/XCQJf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCRnv', 'Rapid', 'hakimRIAD', 1660, 'nasr921', 2018, 'd4,d5,c4,e6,Nf3,Nf6,a3,c5,Nc3,cxd4,Nxd4,Bc5,cxd5,exd5,Bf4,O-O,Ndb5,Na6,b4,Bb6,e3,Re8,h3,d4,Nd6,Re6,Nxc8,Rxc8,Nb5,dxe3,Qxd8+,Rxd8,Bxe3,Bxe3,fxe3,Rxe3+,Kf2,Re5,Kg3,h5,Nxa7,g5,Bxa6,bxa6,Nc6,Rd3+,Kh2,Re2,Rhd1,Rc3,Nd4,Rf2,Rf1,Rxf1,Rxf1,Kg7,Rf3,Rc4,Nf5+,Kg6,Nd6,Rd4,Nf5,Rd2,Ng3,g4', 'Rxf6+,Kxf6,Ne4+,Kg6,Nxd2', 'https://lichess.org/training/xCRnv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xcRwG', 'Rapid', 'cyclops123', 1867, 'levibristack', 1815, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Nf6,Nf3,Bb4+,Nbd2,O-O,O-O,d6,Qb3,Nc6,a3,Bxd2,Nxd2,Na5,Qg3,Nxc4,Nxc4,Be6,Ne3,g6,Rac1,Nxe4,Qf3,Nd2,Qg3,Nxf1,Nxf1,c6,Ne3,d5,Rd1,Qb6', 'Qe5,f6,Qxe6+', 'https://lichess.org/training/xcRwG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XcSfQ', 'Rapid', 'drkrayyem', 1637, 'MindlessDribble', 1723, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,Nf6,Nf3,Bg4,Be2,e6,h3,Bh5,a3,c6,Be3,Nbd7,O-O,Be7,Qd2,O-O-O,Rfd1,Kb8,Bf4,e5,Nxe5,Nxe5,Bxe5,Qxe5,dxe5,Rxd2,exf6,Rxd1+,Rxd1,Bxe2,fxg7,Rg8,Nxe2,Rxg7,Rd7,Bf6,c3,b5,Nd4,Kc8,Rxa7,Bxd4,cxd4,Kb8,Re7,Kc8,f4,Kd8,Ra7,Ke8,g4,h5,g5,Kf8,Kf2,Kg8,Kf3,Kh7,h4,Kg6,Ke4', 'f5+,gxf6,Rxa7', 'https://lichess.org/training/XcSfQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xctmc', 'Blitz', 'Deus_Ex_Machina_JSB', 1575, 'LordofFracchia', 1507, 'd4,d6,Bf4,Bf5,e3,Nf6,Bc4,d5,Bb3,e6,Nf3,Bb4+,Nbd2,O-O,c3,Ba5,Bc2,b5,b4,Bb6,O-O,Nbd7,a4,bxa4,Bxa4,Ne4,Nxe4,Bxe4,Bc6,Rb8,b5,Nf6,Ne5,a6,Bg5,axb5,Bxf6,gxf6,Nd7,b4,cxb4,Kh8,Nxf8,Qxf8,b5,Qg7,f3,Bf5,e4,Bh3,Rf2,Rg8,g3,f5,exf5,exf5,f4,Bxd4,Ra2,Bb6,Qxd5,Bg4,Kg2,Qh6,Rfd2', 'Qh3+,Kh1,Qf1#', 'https://lichess.org/training/Xctmc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xcu8w', 'Blitz', 'rizal_6670', 1661, 'elsuculex', 1592, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qa4,g6,Nc3,Bg7,Nf3,Nf6,h4,d6,Bg5,Bd7,Bxf6,Bxf6,h5,Ne5,Qb3,Nxf3+,gxf3,O-O,hxg6,hxg6,O-O-O,Be6,Nd5,Bg7,f4,Rc8,Bd3,Rc5,Rh2,Qc8,c4,Bxd5,exd5,Rxd5,Kb1,Rc5,Rdh1,b5,cxb5,Qd7,a4,Rb8,f3,a6,b6,a5,Bxg6,e6,Bh7+,Kf8,Bd3,Qc6,Be4,Qxb6', 'Rh8+,Bxh8,Rxh8+,Kg7,Rxb8,Qxb3,Rxb3', 'https://lichess.org/training/Xcu8w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCvaS', 'Classical', 'erreaudace', 1824, 'Garganel', 2134, 'Nf3,c6,c4,d5,cxd5,cxd5,d4,Nc6,Nc3,Nf6,e3,Bg4,Be2,e6,O-O,a6,a3,Bd6,b4,Rc8,Bb2,O-O,Rc1,Nd7,Na4,f5,Nc5,Nxc5,dxc5,Bb8,h3,Bxf3,Bxf3,Ne5,Be2,f4,exf4,Rxf4,Qd2,Rh4,Rfd1,Qf6,Rc3,Rf8,Rf1,d4,Rg3,Nc6,Bd3,Bxg3', 'fxg3,Qxf1+,Bxf1', 'https://lichess.org/training/xCvaS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XcVru', 'Blitz', 'Johel2695', 1576, 'ismelmd', 1545, 'e4,c5,Nf3,d6,c3,Nf6,Bc4,a6,Qb3,e6,d3,h6,d4,cxd4,Nxd4,Be7,Bxe6,O-O,Bxc8,Qxc8,Nf5,Bd8,f3,b5,O-O,Bb6+,Kh1,Kh7,Bf4,d5,e5,Qxf5,exf6,Qxf6,Bg3,Rh8,Qxd5,Ra7,Nd2,Rd7,Qe4+,Kg8,Qe8+,Kh7,Qe4+,Kg8,Rad1,Re7,Qa8,Bc7,Bxc7,Kh7,Bxb8,Re2,Ne4,Qg6,Rg1,h5,Rd5,f6,Rd6,h4,Qa7,h3,g3,Rxe4,fxe4', 'Qxe4+,Rg2,Qxg2#', 'https://lichess.org/training/XcVru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCVy0', 'Classical', 'toygarr', 1794, 'Djalel', 1841, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,b6,Nf3,Bb7,Bd3,O-O,O-O,Nbd7,Qc2,c5,cxd5,exd5,Rfe1,c4,Bf5,Re8,Ne5,Nxe5,dxe5,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Bxe4,Bxe4,Qxe4,Qxe5,Qxc4,Qxb2,a4,Rac8,Qb5,Qe5,Rec1,Red8,Rxc8', 'Qxa1+,Qf1,Qxf1+,Kxf1,Rxc8', 'https://lichess.org/training/xCVy0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XcvY6', 'Rapid', 'zasaa', 1762, 'Chiaroscuro012', 1743, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Bf5,Nf3,e6,d3,Nd7,O-O,Ngf6,h3,Bd6,d4,O-O,Nc3,Rc8,Re1,Bb8,Ne5,Nxe5,dxe5,Ne4,Nxe4,Bxe4,c3,Bxe5,f3,Qb6+,Kh1,Bg3,Rf1,Bf5,Qe2,Rfd8,Be3,Qd6,f4,e5,Qf3,exf4,Bxf4,Bxf4,Qxf4,Qxf4,Rxf4,Be6,Rd1,Rc5,Rh4,h6,Rdd4,f5,g4,fxg4,hxg4,Rf8,g5,Rf1+,Kg2,Rb1,Rd2,hxg5,Rh5,a5,Bc2,Rxb2', 'Bh7+,Kf7,Rxb2', 'https://lichess.org/training/XcvY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCXBU', 'Rapid', 'rjdcp', 1913, 'chrim', 1906, 'Nf3,d5,d4,c5,c3,e6,Bf4,Nc6,e3,Nf6,h3,Bd6,Ne5,O-O,Bb5,Bxe5,dxe5,Nd7,Bxc6,bxc6,O-O,f6,exf6,Nxf6,Qa4,Bb7,Nd2,Nd7,Bd6', 'Nb6,Qa3,Qxd6', 'https://lichess.org/training/xCXBU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xcykt', 'Blitz', 'ozguno', 2284, 'Megakosmico', 2271, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nc3,Bb4,Nxc6,dxc6,Bd2,Bg4,Be2,Bxe2,Qxe2,O-O-O,O-O-O,Ne7,a3,Bc5,g3,Qf6,f4,Ng6,Be3,Bxa3,Bxa7,Qxc3', 'Qg4+,f5,Qxf5+,Rd7,Qxd7#', 'https://lichess.org/training/Xcykt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XCz56', 'Rapid', 'ChessterBlitzMan', 1904, 'LE777', 1788, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nc3,Bb4,Be2,Bxc3+,bxc3,Qxe4,O-O,Nxd4,cxd4,Ne7,Re1,Qh4,Bb2,d5,c4,Be6,Bf3,O-O,Ba3,dxc4,Bxb7,Rab8,Qf3,Rfe8,Bxe7,Rxe7,d5,Bc8,Bxc8,Rxe1+,Rxe1,Rxc8,Re4,Qd8,Rxc4,h6,Rc6,Qe7,g3,Qe1+,Kg2,Qa5,Qf5,Rf8,Qd7,Qxa2,Rxc7,Qe2,Qe7,Qxe7,Rxe7,Ra8,d6,Kf8,Rc7,a5,d7,Ke7', 'Rc8,Kxd7,Rxa8', 'https://lichess.org/training/XCz56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xCzJA', 'Classical', 'LongRoadto2000', 1907, 'aboOod19', 1887, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Bb5,Bb4,O-O,O-O,Bg5,h6,Bh4,Bxc3,bxc3,g5,Bxg5,hxg5,Bxc6,bxc6,e5,Nd5,c4,Nb6,Qg4,Nxc4,Nf3,d5,Nxg5,f5,exf6,e5', 'Ne6+,Kf7,Nxd8+', 'https://lichess.org/training/xCzJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XD1r8', 'Blitz', 'dasAlbsch', 1995, 'oleg1234', 1846, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nc6,Nf3,Nf6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Bb5,Bd7,O-O,O-O,Re1,a6,Bd3,h6,c3,Ne7,Ne5,Rad8,Be4,Nd5,c4,Ne7,Bxb7,a5,f4,Ng6,g3,Nxe5,dxe5,Qe7,Qf3,Qc5+,Kh1,Rb8,Red1,Rxb7,Rxd7,Rxb2,Rad1,Rxa2,Rd8,Qxc4,Rxf8+,Kxf8', 'Qa8+,Ke7,Qd8#', 'https://lichess.org/training/XD1r8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xd1tq', 'Rapid', 'TiwariKhan', 1543, 'ajiekun', 1565, 'e4,e5,Nf3,Nf6,c3,Nc6,d4,exd4,e5,Ng4,Bc4,Ncxe5,Nxe5,Nxe5,Qe2,Qe7,Bb3,dxc3,Nxc3,Nd3+,Kd2,Qxe2+,Nxe2,Nxf2,Rf1,Bb4+,Nc3,Ne4+,Kd1,O-O,Nxe4,d5,Bxd5,Bg4+,Kc2,Rad8,Bxb7,f5,Nc3,Rfe8,h3,Bh5,Bf3,Bg6,Bf4,Rd4,Bxc7,Bxc3,Kxc3,Rd7,Rfe1,Rxc7+,Kb3,Rb8+,Ka4,Be8+,Ka5,Rc5+,Ka6,Bb5+,Kxa7,Rf8,Re7,Bd3,Rae1,Ra5+,Kb6,Ra6+,Kc5,Rc8+,Kd4,Rd6+,Ke5,Rdd8,Kf4,Rd4+,Ke3,Rcd8,Kf2,Be4,Bxe4,fxe4,R7xe4,Rf8+,Ke3', 'Rxe4+,Kxe4,Re8+,Kd4,Rxe1', 'https://lichess.org/training/xd1tq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xD3K6', 'Blitz', 'alankhad', 1905, 'aasseessiinnoo', 1848, 'e4,d5,exd5,Nf6,d4,c6,Nf3,cxd5,Be2,Nc6,O-O,Bf5,Be3,e6,Nbd2,Bd6,c4,O-O,c5,Bc7,a3,Re8,b4,a6,Qb3,Be4,a4,h5,b5,Na5,Qb4,Nc4,Nxc4,dxc4,Bxc4,Bxf3,gxf3,Nd5,Bxd5,Qxd5,Kg2,f5,b6,Bb8,Qd2,Rf8,Bf4,Rf6,Qe3,h4,h3,g5,Bxg5,Rg6,Kh1,f4,Bxf4,Qf5,Bxb8', 'Qxh3+,Bh2,Qg2#', 'https://lichess.org/training/xD3K6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XD7vv', 'Rapid', 'KarlMarxWasRight', 1684, 'Cikutta', 1790, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nf5,Bxf5,exf5,Qd7,Bd3,Ne5,Qe2,Nxd3+,Qxd3,Nf6,O-O,a6,c4,e6,fxe6,fxe6,b4,Be7,Bg5,O-O,Qg3,Ne4,Qd3,Nxg5,c5,Bf6,Nc3,Nf7,Rad1,Rad8,Ne4,Be5,f4,Bb2,Rd2,Bf6,Nxf6+,gxf6,Rf3,Nh6,Rg3+,Kf7', 'Qxh7+,Ke8,Qxh6', 'https://lichess.org/training/XD7vv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XDa02', 'Blitz', 'LimitZero', 1646, 'Daniel0604', 1704, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,d5,exd5,exd5,Bb5,Qa5+,Nc3,Bg4,Bd2,Bxf3,Qxf3,cxd4,Qxd5,dxc3,Bxc6+,bxc6,Qxa5,cxd2+,Qxd2,Be7,O-O,Rd8,Qc3,c5,Qxg7,Bf6,Qg4,Ne7,Qf4,Bxb2,Rab1,Bd4,Kh1,O-O,Rfd1,Ng6,Qg4,Rfe8,c3,Bxc3,Rxd8,Rxd8,Qc4,Bd4,Rb7,Ne5,Qa6,Bxf2,g3,Rd1+,Kg2,Bd4,Rb8+,Kg7,Qe2,Rg1+,Kh3,Rc1,Rb7,Rc3,Rxa7,Ng6,Qg4,h5,Qg5,Bf6,Qd2,Be5,Qd7', 'Nf4+,Kh4,Bf6#', 'https://lichess.org/training/XDa02');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDB1u', 'Blitz', 'ALEKSANDR29', 1879, 'RoTTaaX', 1734, 'e4,c5,c4,e6,Nc3,Nf6,f4,Qa5,d3,Nc6,Bd2,Qc7,Nf3,Bd6,e5,Nxe5,fxe5,Bxe5,Nxe5,Qxe5+,Be2,Ng4,h3', 'Qg3+,Kf1,Qf2#', 'https://lichess.org/training/xDB1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDcpA', 'Blitz', 'NM TheLlamaLord', 2529, 'hochjoch', 2279, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,e6,Nc3,exd5,Nxd5,Nxd5,Qxd5,Nc6,Nf3,Be7,e4,O-O,Bc4,Bxa6,O-O', 'Nb4,Qxa8,Qxa8', 'https://lichess.org/training/xDcpA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xde4t', 'Rapid', 'Ashakanasadi', 1646, 'Jamilag', 1603, 'd4,d5,e3,Nc6,Bb5,Qd6,Nf3,f6,h3,g5,O-O,g4,hxg4,Bxg4,Re1,a6,Be2,Nh6,Nh2,Bf5,e4,dxe4,Bxh6,Bxh6,c3,Rg8,Bc4,Rg7', 'Qh5+,Rg6,Qxf5', 'https://lichess.org/training/xde4t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdeG7', 'Rapid', 'doubletapp', 1810, 'Admiral19901130', 1877, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,O-O,O-O,a6,f4,b5,Bb3,Bb7,e5,Qg6,Qe2,Nf5', 'Nxf5,Qxf5,Bxc5', 'https://lichess.org/training/xdeG7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XdFbX', 'Rapid', 'harkach2', 2268, 'josep09', 2262, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,O-O,c3,c5,dxc5,Na6,Bxf6,Bxf6,Ne4,Bg7,h4,f5,Neg5,h6,Nh3,Nxc5,Nf4,Qb6,Qd5+,e6,Qd2,Ne4,Qc2,e5,Nd3,d6,Qb3+,Qxb3,axb3,Be6,b4,Rfc8,Nd2,Nxd2,Kxd2,d5,Nc5,Bf7,Nxb7,Bf8,e3,d4,exd4,exd4,f3,dxc3+,bxc3,Rxc3,Kxc3,Bg7+,Kd2,Bxa1,Bc4,Be5,Bxf7+,Kxf7,Nc5,Rb8,Nd3,Bd6,Ra1,Rb7,g4,fxg4,fxg4,Ke6,h5,gxh5,gxh5,Kd5,Ra6,Rg7,Ke3,Rg3+,Ke2,Rh3,Rxa7,Rxh5', 'Ra5+,Kc6,Rxh5', 'https://lichess.org/training/XdFbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XdFTh', 'Rapid', 'doki2266', 1723, 'Sybotes', 1793, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,e6,Bf4,Bd6,Bxd6,Qxd6,c5,Qc7,e3,Nd7,Bd3,Bg6,O-O,Ngf6,b4,b5,cxb6,Nxb6,Ne5,a5,b5,cxb5,Nxb5,Qb8,Rb1,Bxd3,Qxd3,O-O,Nc3,Ra7,Ne2,Rb7,Qa6,Rc8,Qxa5,Nc4,Nxc4,Rxb1,Nd2,Rxf1+,Kxf1,h6,f3,Qxh2,Qa6,Qc7,f4,Qc2,Nf3,Qb1+,Ne1,Ne4,Qxc8+,Kh7,Qc2,Qb5,a4,Qa6,g4,g6,Kg2,h5,Nc3,Nxc3,Qxc3,Qe2+,Kg3,Qxg4+,Kf2,h4,Nf3', 'Qg3+,Ke2,Qg2+', 'https://lichess.org/training/XdFTh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XDgcz', 'Classical', 'Kulbassov', 1700, 'JFive', 1819, 'e4,c6,d4,d5,exd5,cxd5,c4,dxc4,Bxc4,Nf6,Qb3,e6,Bg5,Qxd4,Nf3,Qe4+,Be2,Nc6,Nc3,Qb4,Qc2,Bd7,Bxf6,gxf6,O-O-O,O-O-O,a3,Bh6+,Kb1,Qb6,Nb5,Kb8,Nd6,Ne5', 'Nxe5,fxe5,Nxf7', 'https://lichess.org/training/XDgcz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XdgSi', 'Rapid', 'EZlla', 1845, 'justaprawn', 1703, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,c6,Bd3,Nbd7,O-O,Ne5,Bg5,Nxd3,cxd3,Be7,Qf3,Qa5,Bf4,Bg4,Qg3,Qh5,Bxd6,Bxd6,Qxd6,Rd8,Qb4,c5,Qa4+,Bd7,Ndb5,O-O,Qb3,Be6,Qd1,a6,Nc7,Bg4,f3,Bc8,Qc2,c4,N7d5,Nxd5,Nxd5,cxd3,Qxd3,Be6,Nf4', 'Qc5+,Kh1,Rxd3', 'https://lichess.org/training/XdgSi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDI41', 'Blitz', 'Iakovlev_Oleg', 1651, 'dolap23', 1655, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nc6,Nf3,Bb4+,Nc3,Nge7,a3,Ba5,Bd3,O-O,O-O,d5,exd5,Nxd5,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Nf6,Qh4,Qxd4,Bf4,e5,Nce4,exf4', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/xDI41');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDiJh', 'Blitz', 'NM FasterPhanter', 2412, 'XaMeJleoH', 2467, 'e4,e5,Nf3,Nc6,Nc3,Nf6,a4,a6,Bd3,Bc5,O-O,d6,Re1,Bg4,h3,Bh5,Be2,h6,d3,g5,Nh2,Bxe2,Nxe2,h5,Ng3,g4,hxg4,hxg4,Nxg4,Nxg4,Qxg4,Qf6,Be3,Nd4,Bxd4,Bxd4,Nf5,Bb6,c3,O-O-O,d4,Kb8,Rad1,Rdg8,Qf3,Qg6,Kf1,Rh2,g3,Qh7,Ke2,exd4,cxd4,d5,e5,f6,e6,Rh5,g4,Rh3,Qf4,Re8,e7', 'Rxe7+,Nxe7,Qxe7+,Kf1,Rh1+,Kg2,Rxe1,Rxe1,Qxe1', 'https://lichess.org/training/xDiJh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdiSz', 'Classical', 'CoatedWinner', 1662, 'Aldebaran1612', 1650, 'f4,c5,g3,h5,Bg2,e6,Nf3,Nf6,d3,Nc6,Be3,Nd5,Qd2,Be7,Nc3,Nxe3,Qxe3,d5,d4,c4,Ne5,h4,Nxc6,bxc6,O-O-O,Qa5,Kb1,Bb4,Bh3,Rb8,Qe5,Qb6,Qxg7,Rf8,Na4,Qb7,b3,Bd7,Rhe1,c5,Nxc5,Bxc5,dxc5,cxb3,axb3,a5,e4,dxe4,Rd4,a4,Rdxe4,axb3,Bxe6,bxc2+,Kxc2,Qb1+,Kd2', 'Rb2+,Qxb2,Qxb2+', 'https://lichess.org/training/xdiSz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XDIWs', 'Rapid', 'Turboguigz', 1851, 'tarekjawadisk', 1858, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,Bxc3+,bxc3,c6,Bg5,Ne7,e3,O-O,Qc2,f6,Bf4,Ng6,Bd3,Nxf4,Bxh7+,Kh8,exf4,f5,Ng5,Qf6,h4,Qh6,O-O-O,Nd7,Rde1', 'Nf6,Bxf5,exf5', 'https://lichess.org/training/XDIWs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XdjuN', 'Blitz', 'prabhatdhn', 1759, 'Forkast', 1788, 'd4,d5,Nf3,e6,Bf4,Bd6,Nc3,Bxf4,e3,Bh6,Ne5,f6,Qh5+,Ke7', 'Qf7+,Kd6,Nb5#', 'https://lichess.org/training/XdjuN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDJvS', 'Blitz', 'k12sh12', 1937, 'LawFirm', 1898, 'e4,e5,Bc4,Nc6,Nc3,Bc5,Nge2,a6,O-O,b5,Bb3,Na5,d3,Nxb3,axb3,d6,Be3,Ba7,Bxa7,Rxa7,Qd2,Ne7,Qg5,O-O,f4,f5,fxe5,dxe5,Ng3,f4,Nh5,Ng6,Nd5,Qxg5,Rf3,Nh4,Rf2,Qxh5,c4,bxc4,bxc4,f3,Ra5,fxg2', 'Ne7+,Kh8,Rxf8#', 'https://lichess.org/training/xDJvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdK3k', 'Classical', 'osullivanc', 1931, 'AFAMH2020', 1932, 'd4,d5,Bf4,Nc6,Nf3,Bg4,Nbd2,e6,e4,dxe4,Nxe4,Bxf3,Qxf3,Nxd4,Qd3,Nf6,Be5,Nxe4,Qxe4,Nc6,Bb5,Qd5,Qxd5,exd5,Bxc7,a6,Bxc6+,bxc6,O-O-O,Rc8,Rhe1+,Be7', 'Bd6,Kd7,Bxe7', 'https://lichess.org/training/xdK3k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdLMG', 'Rapid', 'Luaronian', 1750, 'shubham997', 1813, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,O-O,O-O,c5,Nf3,Nc6,Bf4,Bg4,h3,Bh5,Bh2,a6,a4,Qb6,b3,Qa5,Nd5,Nxe4,g4,Bg6,Nxe7+,Nxe7,Nh4,Nc3,Qxd6,Nc6,Nxg6,hxg6,Qxg6,Nd4,Be5', 'Nf3+,Kh1,Nxe5', 'https://lichess.org/training/xdLMG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDM8w', 'Rapid', 'lackofluck', 1753, 'JustAChessPlayer4', 1812, 'e4,e6,Nc3,d5,exd5,exd5,d4,Bb4,Be2,Ne7,Nf3,O-O,O-O,b6,Re1,c5,dxc5,bxc5,a3,Bxc3,bxc3,Bb7,Bd3,c4,Bxc4,dxc4,Qxd8,Rxd8,Rxe7,Rd1+,Ne1,Nc6,Re2,f5,Bb2,Rad8,f3', 'Rxa1,Bxa1,Rd1,Bb2,Rb1', 'https://lichess.org/training/xDM8w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XDN21', 'Rapid', 'kian-909', 1793, 'doradense', 1805, 'd4,d6,Bf4,b6,e4,Bb7,d5,Nf6,Nc3,g6,h3,Bg7,Bd3,Nbd7,Nf3,Nc5,O-O,Nxd3,cxd3,O-O,Rc1,Nh5,Bg3,a6,Kh2,Nxg3,fxg3,b5,Rc2,b4,Ne2,a5,Ng5,e5,dxe6,Qxg5,exf7+,Rxf7', 'Rxf7,Kxf7,Rxc7+', 'https://lichess.org/training/XDN21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDnLN', 'Classical', 'JuanSnow', 1603, 'jcp', 1623, 'd4,Nf6,c4,d5,Nc3,dxc4,Bg5,Nc6,e3,b5,Bxf6,exf6,Nxb5,Bb4+,Nc3,O-O,Bxc4,Be6,d5,Ne5,Qb3,Rb8,dxe6,Ba5,Qa4,Rxb2,exf7+,Nxf7,Qxa5', 'Qd2+,Kf1,Qxf2#', 'https://lichess.org/training/xDnLN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDnwo', 'Rapid', 'RolloWeeks', 1774, 'JoabasKalliman', 1736, 'e4,e5,f4,exf4,Nf3,g5,d4,d6,Bc4,Bg4,h4,gxh4,Bxf4,Qe7,Nc3,Nd7,Qd2,O-O-O,Bg5,f6,Bxh4,Bh6,Qe2,Qg7,Nd5,Re8,Bg3,f5,e5,dxe5,dxe5,Nxe5,Bxe5,Rxe5', 'Qxe5,Qxe5+,Nxe5', 'https://lichess.org/training/xDnwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdnwu', 'Rapid', 'Boribar', 1699, 'bicornis', 1733, 'd4,d5,Bf4,Nf6,h3,e6,e3,c5,c3,Bd6,Be5,O-O,Nf3,Qb6,Qb3,Nbd7', 'Qxb6,axb6,Bxd6', 'https://lichess.org/training/xdnwu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdo1j', 'Rapid', 'valetol2010', 1664, 'leur0985', 1637, 'e4,e5,Bc4,Nf6,d3,h6,Qf3,Be7,Ne2,c6,O-O,d5,exd5,cxd5,Bb3,Nc6,Ba4,Bd7,Nbc3,Bg4,Qg3,Qa5,Bxc6+,bxc6,Qxe5,Bxe2,Qxe2,O-O,Qf3,d4,Ne4,Qa4,b3,Qa5,Qg3,Qh5,Bb2,Nxe4,dxe4,Bf6,f3,Qc5,Rac1', 'd3+,Qf2,Qxf2+,Kxf2,Bxb2', 'https://lichess.org/training/xdo1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XDo8I', 'Rapid', 'BobC', 2035, 'uropost', 1732, 'Nf3,c5,g3,g6,Bg2,Bg7,O-O,e6,d3,d5,e4,Ne7,c3,O-O,Qe2,Nbc6,Re1,d4,c4,a6,Na3,e5,Bd2,Qd7,Ng5,Nd8,Bh3,Qc7,Bxc8,Rxc8,f4,h6,Nf3,Nec6,Nxe5,Nxe5,fxe5,Qxe5,Bf4,Qe6,Kg2,Nc6,Nc2,Ne5,h3,Rce8,b4,f5,bxc5,fxe4,Qxe4,Qc6,Bxe5,Qxc5,Qxd4,Rxe5,Rxe5', 'Qxd4,Nxd4,Bxe5,Rb1,Bxd4', 'https://lichess.org/training/XDo8I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdOMR', 'Classical', 'Melk0r_CHESS', 1894, 'esmile', 1992, 'e4,c5,Nf3,g6,Bc4,e6,c3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ne7,Re1,Bg7,Qe2,Bf6,d4,O-O,Ng5,cxd4,cxd4,Nf5,Ne6,fxe6,Qxe6+,Kh8,Qxd5,Nb6,Qxb7,Nxd4,Bh6,Re8,Rxe8+,Qxe8,Nc3,Qb8,Qf7,Qd8,Re1,Nc2,Re8+,Qxe8', 'Qxf6+,Kg8,Qg7#', 'https://lichess.org/training/xdOMR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdP6s', 'Rapid', 'komaru260279', 1919, 'TheModernPenguin', 1911, 'e4,g6,d4,Bg7,Nf3,d6,h3,Nf6,Bd3,O-O,O-O,e5,dxe5,dxe5,Nxe5,Nxe4,Nxg6,fxg6,Bxe4,Qe7,Re1,Qh4,Be3,Qxe4,Bc5,Qf5,Bxf8,Bxb2,Re8,Bxa1,g4,Qd7,Qe2,Nc6,Qc4+,Qf7', 'Bh6#', 'https://lichess.org/training/xdP6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdqvN', 'Classical', 'balkonnik', 1849, 'RainerZufall47', 1895, 'b3,e5,Bb2,Nc6,e3,Bc5,Bb5,Nf6,Nf3,Qe7,Bxc6,bxc6,Nxe5,O-O,g4,d6,Nxc6,Qd7,Nd4,Bb7,Rg1,Rfe8,g5,Ne4,g6,fxg6,h4,Rf8,h5,gxh5,Nf3,Rf5,Rxg7+,Qxg7,Bxg7,Kxg7,a4,Raf8,Nh2,Rxf2,Qxh5,Ng3,Qg5+,Kh8,Qxg3,d5,Qxc7,Ba6,Qxc5', 'Rf1+,Nxf1,Rxf1#', 'https://lichess.org/training/xdqvN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdsHU', 'Classical', 'Explorateur', 1966, 'skhamkar', 1851, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,Qb6,Nf3,cxd4,cxd4,f6,exf6,Nxf6,O-O,Bd6,Bf4,Qc7,Bxd6,Qxd6,Nc3,a6,Re1,O-O,Ne5,Nxd4,Bxh7+,Nxh7,Qxd4,Ng5,Rad1,Nf7,Ng6,Re8,Qh4,e5,Qh5,d4,Ne4,Qd8,Rd3,Nh6,Nxe5,Bf5,f4,Qa5,Re2,Bxe4,Rxe4,Qxa2,Rd2', 'Qb1+,Qd1,Qxe4', 'https://lichess.org/training/xdsHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdsj4', 'Rapid', 'boris800', 1867, 'VISHAAL-KUMAR', 1816, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,d6,Bd3,Be7,O-O,O-O,f4,Bg4,Be2,Bxe2,Qxe2,Re8,e5,dxe5,fxe5,Nd5,Ne4,Bb4,c3,Ba5,Qf3,Bb6+,Kh1,Qd7,Ng5,Rf8,Bd2,h6,Ne4,Rae8,Bf4,Qf5,g4,Qg6,c4,Nxf4,Qxf4,f6,Rae1,Rxe5', 'Nxf6+,gxf6,Rxe5', 'https://lichess.org/training/xdsj4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XdTte', 'Classical', 'mingus', 1867, 'breinz', 1844, 'e4,Nc6,Nf3,e5,Bc4,Nf6,Nc3,Bb4,Nd5,Nxe4,Nxb4,Nxb4,c3,Nc6,d3,Nf6,Bg5,O-O,O-O,d5,Bb3,Bg4,Re1,Qd6,Re3,h6,Bxf6,Qxf6,Bxd5,Ne7,Be4,Nf5,Bxf5,Qxf5,Rxe5,Qxe5,Nxe5,Bxd1,Rxd1,Rfe8,d4,Rad8,f4,g5,g3,f6,Nc4,Re2,a4,g4,b4,Rde8,Kf1,Rxh2,Kg1,Rc2,Na5,Rxc3,Nxb7,Rxg3+,Kf2,Rf3+,Kg2,Re2+,Kg1,g3,Nc5,Rff2,Nd3,Rg2+,Kf1,Ra2,a5,Rh2,Kg1,h5,f5,h4,Nf4,Rhd2,Re1,Rxd4,Ne6,Rxb4,Nxc7,h3,Nd5,h2+,Kh1,Re4', 'Nxf6+,Kg7,Nxe4', 'https://lichess.org/training/XdTte');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdU3M', 'Blitz', 'maybenextone', 1625, 'JacksonCosta', 1693, 'd4,g6,Bf4,Bg7,e3,Nf6,Bd3,d5,c3,Nc6,Nd2,a6,Qf3,b5,h4,h5,Qe2,Bb7,f3,Qd7,Nf1,O-O,Nh2,Rfe8,O-O-O,e5,Bg5,Nh7,g4,exd4,cxd4,Nxg5,hxg5,Nxd4,Qg2,Qc6+,Kb1,Rxe3,gxh5,gxh5,Rc1,Qb6,Bf1,c5,g6,f6,Ne2,Nxe2,Bxe2,c4,f4,f5,Nf3,d4,Rxh5,d3,Qh2,Rxe2', 'Rh8+,Bxh8,Qh7+,Kf8,Qf7#', 'https://lichess.org/training/xdU3M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDuE5', 'Rapid', 'Rustlingg', 1973, 'Kol456', 2023, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,g6,Be3,Bg7,f3,Qb6,Bb5,Bd7,Nf5', 'Bxc3+,bxc3,Qxb5', 'https://lichess.org/training/xDuE5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDUfV', 'Rapid', 'Pista3', 1642, 'maikkel', 1703, 'd4,d5,c4,c6,e3,Bf5,Nc3,a6,g4,Bg6,f4,h6,f5,Bh7,Bg2,dxc4,d5,Nf6,e4,cxd5,Qa4+,b5,Nxb5,Qd7', 'Nc7+,Kd8,Qxd7+', 'https://lichess.org/training/xDUfV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDV36', 'Classical', 'Voevoda-M', 1677, 'JunBai', 1659, 'e4,c5,Nf3,Nc6,Bb5,e6,Nc3,Nf6,d3,d5,O-O,Bd6,e5,a6,Bxc6+,bxc6,exd6,Qxd6,Bg5,h6,Bxf6,gxf6,d4,c4,Re1,Rg8,g3,Rb8,Nh4,Rxb2,Nf5,Qb4,Qd2,h5,a3,Qa5,Nd6+,Ke7,Nxc8+,Rxc8,Reb1,Rxb1+,Nxb1,Qc7,Qh6,Qb6,c3', 'Qb2,Nd2,Qxa1+', 'https://lichess.org/training/xDV36');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDv60', 'Rapid', 'Argy_kont', 1614, 'naser42', 1654, 'e4,e5,Nf3,d6,Bc4,Qf6,h3,Be7,Nc3,c6,d3,Qg6,Be3,h6,Qd2,Bf6,O-O-O,Qxg2,Qe2,Qg6,h4,Qh7,h5,g6,Rdg1,g5,d4,Nd7,dxe5,Nxe5,Nxe5,Bxe5,Qd3,Bxc3,Qxc3,Ne7,Bd4,Rf8,Bf6,Qxe4,Re1,Qf4+,Kb1,Be6,Bxe7,Kxe7,Bxe6,fxe6,Qg7+,Rf7,Qxh6,Raf8,Qg6,Rf6,Qd3,Qxf2,a4,Qc5,h6,Rh8,h7,Qf5,Qb3,b6,Rhf1,Qg6,Qc4,c5,Qa6,Qxh7,Qxa7+,Ke8,Qxb6,Rxf1,Rxf1,Qd7,Qb8+,Qd8,Qb5+,Ke7', 'Qb7+,Qd7,Rf7+,Kxf7,Qxd7+', 'https://lichess.org/training/xDv60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XdVYS', 'Blitz', 'griph', 1655, 'ChessMasterMindsDK', 1642, 'Nf3,Nc6,c4,e5,e3,d5,cxd5,Qxd5,Nc3,Qa5,Be2,Nf6,O-O,Bb4,Qc2,O-O,a3,Bxc3,dxc3,g6,b4,Qd5,Rd1,Qe6,Bb2,Qf5,Bd3,Qh5,Be2,Qf5,Rac1,e4,Nh4,Qg5,g3,Bh3,Ng2,Rad8,Nf4,Qf5,Nxh3,Qxh3,Bf1,Qh5,c4,Ng4,h3,Nf6,Bxf6,Rde8,Bb2,Qg5,Qc3,f6,Rd7,Qf5,Rxc7,Ne5,Bg2,Nf3+,Bxf3,Qxf3,Rxb7,h5,c5,h4,Qc4+,Kh8,Rxa7,hxg3,Rf1,gxf2+,Rxf2,Qg3+,Kf1,Qxh3+,Ke1,Qxe3+,Re2,Qg1+,Kd2,Rd8+,Kc2', 'Qd1+,Kc3,Rd3+,Qxd3,Qxd3#', 'https://lichess.org/training/XdVYS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XdwAz', 'Rapid', 'monday_chess', 1635, 'lohengramm', 1828, 'e4,c5,c3,Nc6,d3,g6,h3,Bg7,Nf3,Nf6,Be3,d6,Qc2,O-O,Be2,a6,g4,b5,Nfd2,b4,f4,e5,g5,Qe7,f5,Nh5,f6,Bxf6,gxf6,Qxf6,Nf3,Bb7,Bg5,Qe6,Nfd2,d5,Bg4,f5,exd5,Qxd5,Bf3,e4,dxe4,fxe4,Nxe4,Rae8,Nd2,Qxg5,O-O-O,Qh6,Qb3+,Kh8,Rhe1,Rxf3,Nd6,Rxe1,Rxe1,Ng7', 'Nf7+,Rxf7,Qxf7', 'https://lichess.org/training/XdwAz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDXXg', 'Blitz', 'eliter7', 1522, 'geronimus74', 1605, 'e4,c5,Nc3,Nc6,Nf3,d6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,O-O,Be7,Re1,O-O,Bg5,Nd7,Bxe7,Qxe7,a3,Nb6,Bb3,Kh8,Re3,f5,Rh3,f4', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/xDXXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xDy1R', 'Rapid', 'So_It_Goes', 1846, 'podu', 1625, 'e4,e5,Qh5,Qf6,Nf3,Nc6,c3,Bc5,Bc4,d6,d3,Be6,Bg5,Qg6,Qxg6,hxg6,Bxe6,fxe6,O-O,Nf6,a4,a5,Nbd2,O-O-O,Rab1,Rh5,Nc4,Rdh8,Bxf6,gxf6,Nxa5,Nxa5,b4,Ba7,bxa5,g5,Rb3', 'g4,g3,gxf3', 'https://lichess.org/training/xDy1R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XDYGI', 'Rapid', 'CrazyRussianBoy', 1740, 'gattu97', 1762, 'd4,Nf6,Bg5,Ne4,Bf4,Nc6,f3,Nf6,e4,d6,Bb5,a6,Bxc6+,bxc6,Ne2,Bb7,O-O,e6,e5,dxe5,Bxe5,Nd5,Nbc3,Ne3,Qd3,Nxf1,Rxf1,Bd6', 'Bxg7,Rg8,Qxh7', 'https://lichess.org/training/XDYGI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xdyxM', 'Rapid', 'WitNik', 1889, 'yakachoisir', 1770, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,a6,Bxc6,dxc6,Nxe5,Nxe4,Re1,f5,d3,Bd6,Qh5+,g6,Nxg6,Bxh2+,Kf1,Rg8,Qxh7,Be6,dxe4', 'Bc4+,Re2,Qd1#', 'https://lichess.org/training/xdyxM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xE11C', 'Rapid', 'karnikshri', 1636, 'ducuu', 1635, 'd4,d5,Bf4,Nc6,Nf3,Bf5,e3,a6,c4,e6,Nc3,Bb4,Bd3,Nge7,O-O,O-O,a3,Bd6,cxd5,Bxf4,exf4,Nxd5,Re1,Nxf4,Bxf5,exf5,Qc2,g6,Rad1,Qf6,d5,Ne7,Qd2,Nh5,Ne5,Rad8,Re3,Qg5,Rde1,Nf6', 'Nf3,Qh6,Rxe7,Qxd2,Nxd2', 'https://lichess.org/training/xE11C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xe31p', 'Blitz', 'vishnu493', 2136, 'geohotz', 2089, 'e4,g6,d4,Bg7,f4,d6,Nf3,Nc6,Be3,e5,fxe5,dxe5,d5,Nce7,Bd3,f5,Bg5,h6,Bxe7,Nxe7,O-O,O-O,Nh4,Nxd5,Nxg6,Ne3,Qe2,Nxf1,Nxf8,Nxh2,Ng6,Qg5,exf5,Ng4,Nc3,Qh5,Bc4+,Kh7,g3,Bxf5,Nh4,Rf8,Nxf5,Qxf5', 'Bd3,e4,Bxe4,Bd4+,Kg2', 'https://lichess.org/training/Xe31p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xe3O9', 'Blitz', 'medical', 1777, 'bji', 1652, 'e4,b6,d4,Bb7,Nc3,g6,Nf3,Bg7,Bc4,d6,O-O,Nf6,Qd3,O-O,Be3,a6,Rad1,Qc8,e5,Ne8,exd6,cxd6,Nd2,e6,d5,b5,Bb3,e5,Nde4,Nd7,a3,f5,Nd2,e4,Qe2,Kh8,Ndb1,a5,Bd4,Ndf6,Nxb5,Qd7,N5c3,a4,Ba2,Ba6,Bc4,Bb7,Nd2,Nc7,Bb5,Qe7,Bc4,Ncxd5,Bxf6,Nxf6,Nd5,Nxd5,Bxd5,Bxd5,c3,Qb7,Rb1,e3,Nf3,exf2+,Rxf2,Bxc3,Ng5,Bd4,Qc2,Rac8,Qxa4,Bxg2,Ne6,Bxf2+,Kxf2,Qf3+,Ke1,Rfe8', 'Qd4+,Kg8,Qg7#', 'https://lichess.org/training/Xe3O9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xE3xa', 'Rapid', 'Mon_Joker', 1963, 'amir0294', 1948, 'e4,g6,d4,Bg7,Nf3,d6,Be3,Bg4,Be2,Nc6,h3,Bxf3,Bxf3,e5,dxe5,dxe5,O-O,Nf6,Nc3,O-O,a3,Nd4,Ne2,Nxf3+,gxf3,Qc8,Kg2,Rd8,Qc1,Nh5,c3,Qe6,Qc2,b6,Rad1,c5,Qa4,a5,Qb5,Bf8,c4,Nf6,Nc3,h5,Nd5,Nxd5,cxd5,Qd6,Bg5,f6,Be3,Ra7,Kg3,Rg7,f4,g5,fxg5,fxg5,Rg1,g4,Kh2,Rdd7,Qe2,Rdf7,hxg4,hxg4,Rxg4,Rxg4,Qxg4+,Rg7,Bg5,Be7,Qc8+,Bf8,Qf5,Rh7+,Kg2,Rg7,Kf3', 'Rf7,Qxf7+,Kxf7', 'https://lichess.org/training/xE3xa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xe4Tf', 'Blitz', 'AlexBell84', 2296, 'WFM Fredericia', 2320, 'Nf3,Nf6,d4,e6,Bg5,d5,e3,c5,c3,Nc6,Nbd2,h6,Bh4,Be7,Bd3,b6,O-O,Bb7,a4,O-O,Re1,Qc7,Bg3,Bd6,e4,Bxg3,hxg3,dxe4,Nxe4,Nxe4,Bxe4,cxd4,Nxd4,Nxd4,Qxd4,Rfd8,Qe3,Rd7,a5,bxa5,Bxb7,Qxb7,Reb1,Qb6,Qe4,Rad8,Qa4,Rd2,Rf1,Rxb2,Qxa5,Rd7,Qxb6,axb6,Rfb1,Rdd2,Rxb2,Rxb2,Ra8+,Kh7,Ra7,Kg6,Rb7,Rb3,c4,Rb4,f3,h5,Kh2,Rxc4,Rxb6,Kf6,Kh3,g5,Rb5,Rc1,Kh2,Re1,Ra5,Re5,Ra4,Kg6,Rd4,Rd5,Re4,Kf6,Ra4,Kg6,Re4,Ra5,Rb4,f5,Rb8,Ra6,Rg8+,Kf6,Rh8,e5', 'Rh6+,Kg7,Rxa6', 'https://lichess.org/training/xe4Tf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XE50K', 'Rapid', 'gscetin', 1646, 'spankyourpong121', 1633, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,e6,Nc3,Ne7,Na4,Ng6,Nxc5,Bxc5,d4,Ba7,c4,O-O,b4,d5,exd5,cxd5,c5,Bd7,Re1,Bb5,Ne5,Nxe5,Rxe5,Bb8,Rh5,g6,Rh6,Qf6,Qg4,Bd3,Qh3,Qg7,Rh4,Bf5,g4,Be4,Bh6,Qf6,Bxf8,Kxf8,Rxh7,Qxd4,Rh8+,Ke7', 'Qh4+,Qf6,Re8+,Kxe8,Qxf6', 'https://lichess.org/training/XE50K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xE8gH', 'Rapid', 'Voltaire90', 1837, 'rzutki', 1772, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,g6,c3,Bg7,cxd4,Bxd4,Nc3,Ne7,Ne2,Bg7,d4,O-O,Bg5,h6,Bh4,d5,e5,a6,Ba4,c6,Qd2,Qc7,Bc2,Nf5,Bxf5,Bxf5,Bf6,Rae8,Bxg7,Kxg7,Rfe1,f6,exf6+,Rxf6,Ng3,Ref8,Re5,Re6', 'Nxf5+,Rxf5,Rxe6', 'https://lichess.org/training/xE8gH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xeaGJ', 'Blitz', 'sting53', 1716, 'shertash', 1705, 'c4,e5,g3,Nc6,Bg2,Bc5,Nc3,Nge7,Nf3,Ng6,O-O,O-O,e3,a6,d4,exd4,Ne4,d6,exd4,Ba7,Bg5,f6,Be3,f5,Bg5,Qd7,Nc3,f4,c5,h6,cxd6,hxg5,Nxg5,Qg4,Bd5+,Kh8,Nf7+,Kh7,Bf3,Qf5,Ne5,Ncxe5,dxe5,cxd6,Qxd6,Be6,Be4,Qf7,Bxg6+,Qxg6,Rae1,fxg3,hxg3,Qxg3+,Kh1,Bh3,Qd3+,Qxd3,Rg1,Bf5,Rg3,Qc4,Reg1,Rf7,Nd1,Rg8,Ne3,Bxe3,fxe3,Qe4+,R1g2,Qxe5', 'Rh2+,Bh3,Rhxh3+,Qh5,Rxh5#', 'https://lichess.org/training/xeaGJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xebwu', 'Rapid', 'BABUAPANDIt_01', 1827, 'mohhmed10', 1813, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Bg4,Be2,Bd6,O-O,Ne7,d4,Qd7,Re1,Nbc6,Bb5,Bxf3,Qxf3,O-O-O,Qxf7,Rdf8,Qxg7,Rhg8,Qxh7,Rh8,Qg7,Bxh2+,Kf1,Bd6,Be3,Rfg8,Qf6,Rh1+,Ke2,Qg4+,Qf3,Qxf3+,Kxf3,Rh2,g3,Rf8+,Ke2,Bxg3,Bd3,Bxf2,Bxf2,Rhxf2+,Ke3', 'R8f3#', 'https://lichess.org/training/Xebwu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xeC3p', 'Blitz', 'mx7', 1640, 'carocan08', 1614, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Bf5,Nf3,e6,Bg5,Be7,Bf4,Bd6,Ne5,Nc6,g4,Be4,Nxe4,dxe4,Qa4,Bb4+,Bd2,Bxd2+,Kxd2,Qc7,e3,f5,gxf5,exf5,Bb5,Ne7,Qc4,O-O-O,Nf7,Qa5+,Ke2,Kb8,Nxh8,Rxh8,Rac1,Rc8,Bxc6,Rxc6,Qf7,Qb5+,Kd1', 'Qd3+,Ke1,Rxc1#', 'https://lichess.org/training/xeC3p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xEDtk', 'Rapid', 'Feodosyevich', 1980, 'zdrentu', 1726, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bxd4,Bxd4,Nxd4,Qxd4,Qf6,e5,Qc6,Nc3,a6,O-O-O,Ne7,Bc4,b5,Bb3,Bb7,Rhe1,O-O-O,Nd5,Qh6+,Kb1,Nc6,Qc5,Qxh2,Ne7+,Nxe7,Qxe7,Qf4,Bxf7,Qxf2,e6,Bc6,Qg5,dxe6,Bxe6+,Bd7,Rf1,Qe2,Rfe1,Qf2,Rf1,Qe2,Rfe1,Bxe6,Rxd8+,Rxd8,Rxe2', 'Rd1+,Qc1,Bxa2+,Kxa2,Rxc1', 'https://lichess.org/training/xEDtk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeEhl', 'Blitz', 'wgl', 1718, 'mckonsti', 1696, 'd4,e6,Nf3,d5,g3,c5,c4,dxc4,Qa4+,Nc6,dxc5,Bxc5,Qxc4,b6,a3,Bb7,Bg2,Ne5,Qc3,Rc8,Qxe5,Nf6,O-O,h5,h4,Ng4,Qxg7,Ke7,Ne5,Bxf2+,Rxf2,Rxc1+,Rf1,Rxf1+,Bxf1', 'Qd4+,e3,Qxe3#', 'https://lichess.org/training/XeEhl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeGpO', 'Rapid', 'DuquePlacente', 1937, 'azariya65', 1941, 'd4,d6,c4,c6,Nc3,h6,Nf3,g5,e4,Bg7,Bd3,Qc7,O-O,Nd7,d5,Nf8,dxc6,bxc6,Qc2,Bg4,Nd2,Ng6,f3,Bd7,b3,Ne5,Bb2,Nf6,Be2,Nh5,g3,Nf6,Rad1,O-O,Rf2,Bh3,Bf1,Bxf1,Nxf1,Ng6,Ne3,e6,Rfd2,Rad8,Kg2,Rfe8,Rd3,Rd7,Qd2,Red8,Ne2,Ne5,Bxe5,dxe5,Rxd7,Rxd7,Qc2,Rxd1,Qxd1,Nd7,Nc1,Bf8,Nd3,f6,Ng4,Kg7,Qh1,h5,Ne3,Bc5,Qc1,Bd4,Nc2,c5,Nxd4,exd4,f4,g4,Qa3,f5,exf5,Qb7+,Kg1,exf5,Ne5,Nxe5,fxe5,Qe7,Qc1,d3,Qc3,Kg6,Kf2,d2,Ke2,Qd7', 'Qxd2,Qxd2+,Kxd2,f4,gxf4', 'https://lichess.org/training/XeGpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeHAI', 'Rapid', 'QQcik', 1727, 'ffranz61', 1725, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bd3,Nf6,O-O,Be7,Nc3,O-O,Ng5,h6,Nge4,c6,Nxf6+,Bxf6,Re1,b5,a3,a6,b4,a5,bxa5,Bxc3,dxc3,Qxa5,Bb2,Be6,Qf3,Qc7,Bxb5,Bd5,Qd3,Bxg2,Kxg2,cxb5,Qxb5,Ra5,Qd3,Rg5+,Kf1,Qb7,Ke2,Qxb2', 'Reb1,Qxa1,Rxa1', 'https://lichess.org/training/XeHAI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeHOY', 'Rapid', 'GAKSUKA', 2164, 'borisborya', 1774, 'd4,d5,Nf3,Nf6,Bf4,Nc6,e3,Bg4,Be2,e6,Nbd2,Bd6,Ne5,Bxe2,Qxe2,Ne4,Nxe4,dxe4,Nxc6,bxc6,Bg3,Qb8,c3,O-O,O-O,c5,dxc5,Bxc5,Qc4,Bd6,b4,Bxg3,hxg3,Qb7,Rfd1,Rad8,Rd4,Rxd4,cxd4,c6,Rc1,Rc8,b5,g6,bxc6,Qc7,Qc2,f5,Qc4,Kf7,d5,exd5,Qxd5+,Kg7,Qd7+', 'Qxd7,cxd7,Rxc1+,Kh2,Rd1,d8=Q,Rxd8', 'https://lichess.org/training/XeHOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xehzm', 'Blitz', 'amr9195', 1630, 'Syrsq', 1628, 'c4,e5,Nc3,Nc6,e4,Bc5,Nf3,Nf6,Be2,O-O,Na4,Be7,d4,exd4,Nxd4,Nxe4,Nxc6,bxc6,O-O,Bh4,Qd4,Re8,f3,Ng5,b3,Rxe2,Bb2,f6,g3,Nh3+,Kh1,Bg5,f4,Bh6,Nc3,Rxb2,Ne4,Re2,Rae1,Rxe1,Rxe1,d5,c5,dxe4,Qxd8+,Kf7,Qxc7+,Kg6,Qxc6,Rb8,Qxe4+,Kh5,Qe8+,Kg4,Qe2+,Kf5,Qh5+,g5,Qxh6', 'Bb7+,c6,Bxc6+,Re4,Bxe4#', 'https://lichess.org/training/Xehzm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeI83', 'Rapid', 'el7our', 1916, 'pirizeki', 1939, 'e4,e6,c3,d5,exd5,exd5,d4,Nf6,Bd3,Bd6,Qc2,O-O,Be3,Re8,Nf3,Ng4,Bxh7+,Kh8,O-O,Rxe3,fxe3,Nxe3,Qd3,Nxf1,Kxf1,g6,Bxg6,fxg6,Qxg6,Qf8,Kg1,Bf5,Qh5+,Bh7,Ng5,Qf5,Nd2,Nc6,Rf1,Qg6,Nf7+,Kg7,Qxd5,Rf8,Nxd6,Rxf1+,Kxf1,Qd3+,Kg1', 'Qe3+,Kh1,Qe1+,Nf1,Qxf1#', 'https://lichess.org/training/XeI83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XEIfg', 'Rapid', 'mussomarco', 1625, 'mohsen22', 1782, 'e4,c5,c3,e5,Nf3,Nc6,Be2,d5,exd5,Qxd5,c4,Qd8,Nc3,Nf6,Qa4,Be7,Nxe5,O-O,Nxc6,bxc6,O-O,Be6,Qxc6,Rc8,Qf3,Bg4,Qe3,Qd6,h3,Bh5,Bxh5,Nxh5,Re1,Bd8,b3,Bc7,Ne4,Qg6,Bb2,Nf4,Ng3,Nd3,Bc3,Nxe1,Rxe1,Rcd8,Qxc5,Bxg3,fxg3,Qxg3,Re3,Qg6,Qxa7,Ra8,Qd7,Rxa2,Re8,Ra8,Rxf8+,Rxf8,Bb4', 'Qb6+,c5,Qxb4', 'https://lichess.org/training/XEIfg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeiGg', 'Rapid', 'saajanct', 1949, 'Abbasov-Mais', 1974, 'Nf3,e6,d4,d5,Bf4,Nf6,e3,Bd6,Bxd6,Qxd6,c3,O-O,Bd3,Nbd7,O-O,c5,Nbd2,a6,Qc2,h6,Rfe1,b5,b3,Bb7,e4,dxe4,Bxe4,Nxe4,Nxe4,Bxe4,Qxe4,cxd4,Nxd4,Nf6,Qf3,Rac8,Rad1,Qa3,Nc6,Nd5,Rxd5,exd5,Ne7+,Kh8,Nxc8,Rxc8,Qxd5,Rxc3,Re8+,Kh7', 'Qf5+,g6,Qxf7#', 'https://lichess.org/training/XeiGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xeIqz', 'Rapid', 'samvel53', 2043, 'earl_i', 2042, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,g6,Re1,Bg7,c3,Nf6,d4,cxd4,Nxd4,O-O,h3,a6,Bf4,b5,Bd3,Nxd4,cxd4,Bb7,Nc3,Qb6,Bc2,Nd7,e5,dxe5,dxe5,Nc5,Nd5,Qd8,Nc3,Qxd1,Raxd1,Rfd8,Be3,Ne6,f4,Rac8,g3,b4,Na4', 'Rxc2,Rxd8+,Nxd8', 'https://lichess.org/training/xeIqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xEJHH', 'Rapid', 'jimmyd7777', 1606, 'dweeb', 1640, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Bb3,Qf6,Bxd5,Ng5,O-O,Be7,d3,Nxf3+,Bxf3,O-O,Re1,c6,Nc3,Nd7,Ne4,Qd4,c3,Qb6,Qc2,Ne5,Ng5,Bxg5,Rxe5,Bf6,Re1,Bf5,Be4,Bxe4,Rxe4,Rfe8,Rxe8+,Rxe8,Be3,Qa5,b4,Qa3,Rc1,a6,Qb3', 'Qxc1+,Bxc1,Re1#', 'https://lichess.org/training/xEJHH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xEk4Y', 'Classical', 'CrazyCheckmate77', 1834, 'Shakes', 1979, 'd4,d5,c4,c6,Nf3,Nf6,Bg5,dxc4,e3,b5,a4,a6,axb5,cxb5,b3,cxb3,Qxb3,Be6,Qb2,h6,Bxf6,exf6,Bxb5+,Nd7,Rxa6', 'Rxa6,Bxa6,Qa5+', 'https://lichess.org/training/xEk4Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XEli6', 'Rapid', 'Teillery', 1760, 'EstrellaFG', 1858, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Be2,Nc6,O-O,Bg4,Nc3,e6,Bg5,Be7,Ne5,Bxe2,Nxe2,Nxe5,dxe5,Nd7,Bxe7,Qxe7,f4,O-O,c3,Rac8,Nd4,Qd8,Qe2,Qb6,Kh1,Nc5,a4,Ne4,Rf3,Rc4,Rd3,Rcc8,Rf3,Qd8,Nb5,a6,Nd4,Qh4,Raf1,Qh6,f5,exf5,Nxf5,Qe6,Rh3,Qxe5,Qh5,h6', 'Nxh6+,gxh6,Qxe5', 'https://lichess.org/training/XEli6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xelwj', 'Classical', 'Manacerace', 1701, 'Chormagan', 1672, 'b4,e5,Bb2,Nc6,b5,Nd4,a4,Qf6,e3,Ne6,g3,d5,Nf3,Bd6,Bg2,c6,Nh4,g5,Nf3,h5,h4,g4,Ng5,Nxg5,hxg5,Qxg5,d3,Ne7,Nd2,Bd7,c4,f5,cxd5,cxd5,Rc1,Rf8,Qb3,Be6,d4,f4,dxe5,Bxe5,Bxe5,Qxe5,gxf4,Rxf4,Kf1,Rf7,Qd3,Rd8,Nb3,Bf5,Qd2,Be4,Nd4,Bxg2+,Kxg2,Qe4+,Kh2,Nf5,Nxf5,Rxf5,Kg1,Qf3,Rf1,g3,Rh4,gxf2+,Rxf2,Rg5+,Rg2,Rg3,Rh2,d4,Rxg3,Qxg3+,Rg2,dxe3', 'Qxd8+,Kxd8,Rxg3', 'https://lichess.org/training/Xelwj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XemeB', 'Rapid', 'ThreeTreesMusic', 1773, 'Vandergraafgenerator', 1589, 'b3,d6,Bb2,e5,e4,Nf6,Qe2,g6,d4,Nbd7,d5,Nc5,Nd2,Bg7,O-O-O,O-O,h4,h5,Nh3,Bh6,Ng5,Bxg5,hxg5,Nh7,b4,Na4,Ba1,Qxg5,Qb5,Nb6,Kb1,a6,Qa5,Nf6,g3,Qg4,Bh3,Qe2,Bxc8,Raxc8,Rhe1,Qxf2,Rf1,Qxg3,Rxf6,h4,Bb2,h3,Qa3,Qh4,Rdf1,h2,Qf3,Nd7,Rh1,Nxf6,Nf1,Nxe4,Qg2,Nf2,Rxh2,Qf4,Bc1,Qxb4+,Ka1,Qc3+,Kb1,Qb4+,Ka1,Qd4+,Kb1,Ng4,Rh4,f5,Qh3,Kf7,Rh7+,Kf6,Qh4+,g5,Rh6+,Nxh6,Qxh6+,Ke7,Qxg5+,Rf6,Qg7+,Rf7', 'Bg5+,Ke8,Qg8+,Kd7,Qxf7#', 'https://lichess.org/training/XemeB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xEmVE', 'Rapid', 'xLimabrn', 1723, 'Dimitrapdm', 1720, 'e4,e5,f4,d5,exd5,Qxd5,Nc3,Qe6,fxe5,Qxe5+,Qe2,Qxe2+,Bxe2,Nf6,Nf3,Bc5,d4,Bd6,O-O,O-O,Bg5,Nbd7,Bb5,c6,Ba4,b5,Bb3,a5,a3,a4,Ba2,h6,Bxf6,Nxf6,Rad1,Bb7,Rfe1,Rad8,Ne5,Rfe8,Bxf7+,Kf8,Bxe8,Rxe8,Ng6+,Kf7,Rxe8,Kxe8,Re1+,Kf7,Ne5+,Bxe5,dxe5,Nd5,Nxd5,cxd5,e6+,Ke7,Kf2,Bc8,Re5,Bxe6,Rxe6+,Kxe6,Ke3,Ke5,h4,g6,g3,g5,hxg5,hxg5,g4', 'd4+,Kf3,Kd5', 'https://lichess.org/training/xEmVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XemXB', 'Blitz', 'salilgadgil', 1894, 'mrorion', 1871, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bd3,cxd4,cxd4,Nf5,Bxf5,exf5,O-O,Be6,Nc3,a6,Be3,Be7,Rc1,g5,Bd2,h5,a3,h4,Ne1,g4,Be3,Bg5,Qd2,f4,Bxf4,Bxf4,Qxf4,h3,Nd3,hxg2,Kxg2,Rh3,Nc5,Rf3,Qh6,Rh3,Qg7,Nxd4,Nxb7,Rxh2+,Kxh2', 'Qh4+,Kg1,Nf3+,Kg2,Qh3#', 'https://lichess.org/training/XemXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xENdI', 'Rapid', 'rikianrux', 1904, 'talway', 1815, 'd4,c6,c4,d5,Nc3,dxc4,e3,b5,a4,Bd7,Qf3,e6,axb5,Bb4,Bxc4,cxb5,Bd3,Bc6,Be4,Ne7,Ne2,O-O,O-O,a6,Bxc6,Nbxc6,Rd1,Qc7,Ne4,Nd5,Bd2,Bxd2,Rxd2,Rfc8,Nc5,a5,Nc3,Nxc3,bxc3,b4,Rc2,bxc3,Rxc3,Qd6,Na4,Nb4,Rac1,Rxc3', 'Qxa8+,Qf8,Qxf8+', 'https://lichess.org/training/xENdI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeNJK', 'Blitz', 'electricgypsy', 1796, 'sandro84oliveira', 1745, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nbxd7,Bg5,Qb6,O-O,Qxb2,Bxf6,Qxa1,Bxg7,Rg8,Bh6,O-O-O,c4,Qxa2,Nc3,Qa3,Nxd5,Nb6,Nf6,Rg6,Bg5,Rxd3,Qc2,Qc3,Qe2,Rxf3,gxf3,h6,h4,hxg5,hxg5,Rxg5+,Ng4,Qxc4,Qd1,Qd4,Qe1,e4,Qc1,Rg6,Rd1,Qxf2+,Kh1,Qxf3+,Kh2,Qxg4,Qxc5+,Rc6', 'Qf8+,Kc7,Qd8#', 'https://lichess.org/training/XeNJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xent0', 'Classical', 'Dr_Pilot', 1774, 'chessizboring', 1708, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,Nf3,Bb4,e3,Bxc3+,bxc3,O-O,cxd5,exd5,c4,c6,Ne5,h6,Bh4,g5,Bg3,Nb6,c5,Nc4,Nxc4,dxc4,Bxc4,Ne4,Be5', 'Qa5+,Kf1,Nd2+,Kg1,Nxc4', 'https://lichess.org/training/xent0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xenzK', 'Classical', 'plavicent', 1645, 'cempol', 1624, 'e4,g6,Nf3,Bg7,d3,d6,Be2,e6,c4,Ne7,Nc3,O-O,O-O,Bd7,Be3,Nbc6,Qd2,a6,a3,b5,cxb5,axb5,Rab1,Ne5,d4,Nxf3+,Bxf3,c6,b4,e5,d5,Rxa3,Bg5,f6,Be3,cxd5,exd5,e4,Nxe4,Bf5,Ra1,Rxa1,Rxa1,Bxe4,Bxe4,f5,Bd4,Bxd4,Qxd4,fxe4,Re1,Qa8,Qxe4,Qa7,Qxe7', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/xenzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xeq12', 'Blitz', 'johndeimer', 1794, 'Girlmaster9', 2084, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Nxc6,bxc6,Bh6,Rb8,O-O-O,Qa5,b3,Nxe4,Nxe4', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/Xeq12');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XEQ1G', 'Rapid', 'i__________________i', 1753, 'boban33', 1642, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Bd3,Bxd3,Qxd3,e6,Nf3,Nf6,Bd2,Be7,Bc3,Nbd7,O-O-O,O-O,Ne2,Nd5,g4,Nxc3,Nxc3,Nf6,Ne5,Bd6,g5,Bxe5,dxe5,Ng4,gxh6,Qxd3,Rxd3,Nxf2,Rg1,Nxd3+,cxd3,g6,h5,Kh7,hxg6+,fxg6,Ne4,Rf5,Nf6+,Kxh6,Rh1+,Kg7', 'Rh7+,Kf8,Rh8+', 'https://lichess.org/training/XEQ1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XEr74', 'Rapid', 'opalko', 1856, 'AnagramAxle', 1906, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Bc4,d5,exd5,cxd5,Bb3,Ba6,Ba4+,Ke7,Qf3,Qa5+,Nc3,Rc8,Bb3,h6,Bd2,Qc7,Bxd5,Nf6,Bb3,Bb7,Qh3,Qc6,O-O,g5,f3,Rd8,Bxg5', 'Qc5+,Kh1,Qxg5', 'https://lichess.org/training/XEr74');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeRvQ', 'Rapid', 'GUSTAV2011', 1852, 'Persianbruv', 1737, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,Nf6,O-O,g6,h3,Bd7,d4,exd4,Qxd4,Nc6,Qd1,Bg7,Bg5,O-O,Re1,h6,Bh4,Ne5,Nxe5,dxe5,Bg3,Nh5,Bh2,Nf4,Ne2,Nxh3+,gxh3,Qg5+,Bg3,Bxh3,Kh2,Bg4,Qd3,Qh5+,Kg2,Rad8,Qc3,Bxe2,Bxe2,Qg5,Rad1,h5,Kh1,h4,Bh2,Rxd1,Rxd1,f5,Bc4+,Kh7,Bxe5,Bxe5,Qxe5,Qh5,Rd7+,Kh6,Qg7+,Kg5,Qe7+,Rf6,e5,Qf3+,Kg1,Qg4+,Kh2,Qf4+,Kg1,Qc1+,Kg2,h3+,Kxh3', 'Qh1+,Kg3,f4#', 'https://lichess.org/training/XeRvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XEsLW', 'Rapid', 'ArunkumarSundar', 1649, 'RaMuz', 1675, 'e4,Nc6,Nf3,e5,Nc3,Nf6,a3,Bc5,Bc4,h6,d3,d6,h3,a6,b4,Ba7,Bb2,b5,Ba2,Be6,Nd5,Nxd5', 'exd5,Bd7,dxc6', 'https://lichess.org/training/XEsLW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeTZh', 'Blitz', 'jifente', 1705, 'ABO4470', 1741, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,Be3,Nbd7,Qd2,Qc7,Na4,Rc8,Rc1,Be7,O-O,O-O,g4,Bxg4,Bxg4,Nxg4,Bg5,Bxg5,Qxg5,Ngf6,Qf5,Qc6,Nc3,Nc5,Kh1,Ncxe4,Nxe4,Qxe4+,Qxe4,Nxe4,f3,Nc5,Nxc5,Rxc5,Rfd1,Rd8,Rd3,d5,c3,Rc7,Kg2,Rcd7,Rcd1,f6,c4,d4,b4,Kf7,a4,b6,Kg3,Rc7,Rc1,b5,axb5,axb5,c5,Ke6,Ra1,Rb8,Ra6+,Kd5,f4,e4', 'Rd6+,Kc4,R6xd4#', 'https://lichess.org/training/XeTZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeV1U', 'Rapid', 'khaledgamer', 2044, 'azat58', 2062, 'e4,c5,c3,d5,Bd3,d4,cxd4,cxd4,Nf3,Nc6,Bb5,Bd7,Bxc6,Bxc6,d3,e6,Ne5', 'Qa5+,Nd2,Qxe5', 'https://lichess.org/training/XeV1U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XEV2i', 'Rapid', 'Haidari', 1792, 'Hodan', 1799, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,Nc6,Be3,Bg4,Qf2,e6,Nf3,Bb4,Bd2,Bxc3,Bxc3,Ne4,Qe3,Bxf3,Qxf3,Qh4+', 'g3,Ng5,Qxc6+,bxc6,gxh4', 'https://lichess.org/training/XEV2i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xEVcy', 'Blitz', 'kiartante', 2368, 'rezachess49', 1876, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,O-O,O-O,Be3,Be6,f3,Nbd7,a4,Nc5,Nxc5,dxc5,b3,Qc7,Qe1,Rfd8,Qg3,Kh8,Rfd1,b6,Bg5,h6,Bxf6,Bxf6,Nd5,Bxd5,exd5,Rd7,c4,Rad8,Ra2,g6,Qh3,Bg7,Bd3,f5,Re2,b5,Rde1,bxa4,bxa4,Qa5,g4,e4,fxe4,fxe4,Rxe4,Qd2,Re8+,Rxe8,Rxe8+,Kh7,Bxg6+,Kxg6', 'Qh5+,Kh7,Qf5#', 'https://lichess.org/training/xEVcy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xevFw', 'Rapid', 'PantuhovPI', 1876, 'gabriel3014', 1863, 'd4,d5,c4,c6,Nf3,dxc4,a4,b5,Nc3,b4,Nb1,e6,e4,Ba6,Qc2,Nf6,e5,b3,Qd1,Nd5,Be2,Bb4+,Bd2,c3,bxc3,b2,Ra2,Bxe2,Qxe2,Ba5,Rxb2,O-O,O-O,Nd7,c4,Bxd2,cxd5,Bh6,dxc6,Nb8,Qc4,Qc7,Rb7,Qxc6,Qxc6,Nxc6,Nc3,Rab8,Rfb1,Rxb7,Rxb7,Rb8,Rxb8+,Nxb8,Kf1,a6,Ke2,Bc1,Kd3,Kf8,Kc4,Ke7,Ne4,f5,Nc5,Ba3,Ng5,Bxc5,Kxc5,h6,Nf3,Kd7,Kb6,Kc8,Nd2,a5,Nb3,g5,Nxa5,h5,Nc4,g4,a5,h4,Nd6+,Kd7,a6,Nxa6,Kxa6,f4,Kb6,g3,hxg3', 'f3,gxf3,h3', 'https://lichess.org/training/xevFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeVuO', 'Blitz', 'FM Cristopalov', 2495, 'vanyogt', 2519, 'b3,d5,Bb2,a5,a4,b6,g3,Bb7,Bg2,e6,d4,Nf6,Nd2,Nbd7,Ngf3,c5,O-O,cxd4,Nxd4,Be7,Nb5,O-O,c4,Nc5,Be5,Rc8,Rc1,dxc4,Bxb7,Nxb7,Nxc4,Qxd1,Rcxd1,Bc5,Bd6,Nxd6,Ncxd6,Rcd8,Nc4,Rxd1,Rxd1,Nd5,e4,Nf6,e5,Nd5,Kg2,h6,f4,f6,exf6,Rxf6,Re1,g5,fxg5,hxg5,Re2,Kg7,Ne5,Rf5,Nd7', 'Ne3+,Rxe3,Bxe3', 'https://lichess.org/training/XeVuO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XeWX9', 'Blitz', 'THRayan', 1774, 'Mangoes124', 1773, 'd4,Nf6,c4,e6,e3,d5,Nf3,Bb4+,Nbd2,O-O,a3,Bxd2+,Bxd2,b6,cxd5,Nxd5,Bc4,Bb7,Bxd5,Bxd5,O-O,Nd7,Bb4,Re8,Re1,Qf6,Nd2,Qg6,g3,Rac8,e4,Bb7,e5,c5,dxc5,Nxc5,Bc3,Nd3,Re3,Red8,Qe2,Nf4,Qe1,Nh3+,Kf1,Qh5,Qe2,Qf5,g4,Nf4,gxf5,Nxe2,Rxe2,exf5,e6,fxe6,Ree1,Ba6+,Kg1,Rc4,Nxc4,Bxc4,Rxe6,Rd3,Re8+,Kf7,Ra8,Rg3+,Kh1', 'Bd5+,f3,Bxf3#', 'https://lichess.org/training/XeWX9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XEYe9', 'Blitz', 'ardatstn', 1596, 'SoupNom', 1673, 'd4,c6,Nc3,d5,Bf4,Nf6,e3,Bf5,Bd3,Bxd3,Qxd3,Qb6,Rb1,e6,Nge2,Nbd7,O-O,Nh5,e4,Nxf4,Nxf4,Be7,exd5,cxd5,Rfe1,O-O,g3,Rac8,h4,Bd6,Kg2,Bxf4,gxf4,Qd8,Kg3,Qf6,Qf3,Qg6+,Qg4,Qxc2,f5,Qd3+,f3,Qxf5,Qxf5,exf5,Nxd5,Rc2,Ne7+,Kh8,Nxf5,g6,Nd6,b6,Re7,Nf6,Nxf7+,Kg8,Nh6+,Kh8,Nf7+,Kg8,Ne5,Nd5,Rxa7,Ne3,Nd7', 'Rg2+,Kh3,Rxf3#', 'https://lichess.org/training/XEYe9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XEyJ7', 'Rapid', 'bogdankukic', 1860, 'Valeriy53', 1809, 'e4,c6,Nf3,d5,c3,dxe4,Ng5,Nf6,d3,exd3,Bxd3,h6,Nf3,Bg4,h3,Bxf3,Qxf3,e5,Be3,Bd6,Nd2,O-O,Rd1,Nbd7,Ne4,Nxe4,Bxe4,Qc7,O-O,Nf6,Bc2,Rfe8,Bxh6,e4,Qe3,gxh6,Qxh6,Re6,Qg5+,Kf8,Bb3,Nd5,Bxd5,cxd5,Rxd5,Rd8,Rfd1,Rg6,Qf5,Bh2+,Kh1,Rxd5,Rxd5,Bd6,Qxe4,Re6,Qb1,Qc4,Rd1,Qe2,Kg1,Rf6,Rf1,Qe5,g3,Qg5,Qd3,b6,Kg2,a5,Qe4,Re6,Qf3,Kg7,Rd1,Bc5,Rd5,Re5,h4,Qe7,Qg4+,Kf8,Qc8+,Kg7,Qg4+,Kf8,Qc8+,Qe8', 'Rd8,Qxd8,Qxd8+', 'https://lichess.org/training/XEyJ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xEYsi', 'Classical', 'dmdk', 1790, 'pro132', 1780, 'e4,Nc6,d4,d5,e5,Bf5,Nf3,Nb4,Na3,e6,c3,Nc6,Bb5,Qd7,O-O,O-O-O,Qa4,Bg4,Nd2,Nge7,Nb3,h5,Bg5,h4,h3,Rh5,Nc5,Qe8,Bxe7,Bxe7,hxg4,Rg5,f3,Bxc5,dxc5,f5,exf6,gxf6,Bxc6,bxc6,Qxa7,f5,gxf5,h3,g4,Qh5,Kh2,Qh6,fxe6,Qxe6,Kxh3,Rh8+,Kg2,Qe2+,Rf2,Rxg4+,fxg4', 'Qxg4+,Kf1,Rh1#', 'https://lichess.org/training/xEYsi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xeyv7', 'Rapid', 'olatunji77', 1710, 'MystikNinja', 1715, 'e4,e5,Bc4,Nf6,Qf3,Nc6,Ne2,Bc5,Nbc3,d6,Nd5,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/Xeyv7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xezui', 'Blitz', 'John1910', 1564, 'DanRomania', 1569, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,a3,a6,b4,e6,Bb2,Be7,c4,Nf6,Nd2,O-O,Bd3,Qb6,N2f3,Nxd4,Bxd4,Qc7,O-O,e5,Bb2,Bg4,h3,Bh5,g4,Bg6,Nh4,Bxe4,g5,Bxd3,gxf6,Bxf6,Qxd3,Bxh4,Kh1,Bf6,Rg1,Qd7,Rg3,Rad8,Rag1,Kh8,Bc1,Rg8,Bg5,Bxg5,Rxg5,f6', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/xezui');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xezVs', 'Rapid', 'nycberlin', 1941, 'Pawnpower2019', 1962, 'e4,g6,d4,Bg7,Nc3,c5,Nge2,a6,a4,e6,Be3,cxd4,Bxd4,Nf6,g4,Nc6,Bc5,Nxg4,Nf4,Qh4,Bb5,Nxf2,Bxf2,Qxf4,Bc5,Nd4,Bxd4,O-O,Bxg7,Kxg7,Bd3,f5,Qd2,Qh4+,Qf2', 'Qxf2+,Kxf2,fxe4+,Ke3,exd3', 'https://lichess.org/training/xezVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xf3Jn', 'Rapid', 'tigrao3', 2156, 'TakeAwayMyRights', 1780, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,Be7,Be2,O-O,O-O,d6,h3,Be6,Be3,Qd7,Kh2,Ne8,Nbd2,f5,exf5,Bxf5,Ne4,Nf6,Ng3,Bg6,Nh4,Bf7,Nhf5,Bd8,Bg4,Nxg4+,Qxg4,Bg6', 'Nh6+,gxh6,Qxd7', 'https://lichess.org/training/xf3Jn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xf4Lk', 'Rapid', 'hugoishesa', 2037, 'MiguelZaragoza', 2025, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bf4,Nc6,e3,Bf5,Bd3,Bxd3,Qxd3,e6,a3,Be7,Nf3,O-O,O-O,Rc8,Rac1,h6,b4,a6,Na4,Ne4,Nc5,Nxc5,bxc5,b6,Qxa6,bxc5,dxc5,Qd7,Nd4,e5,Bxe5,Nxe5,c6,Qd6,Nb5,Rxc6,Rxc6,Qxc6,Qxc6,Nxc6,Rd1,Ra8,Rxd5,Bxa3,Nxa3,Rxa3,g3,Kh7,Rd7,f6,Kg2,Ra2,Rd6,Ne5,h3,h5,Rd4,Kh6,g4,hxg4,hxg4,Kg5,Kg3,Kh6,f4,Nf7,Rd1,Ra3', 'Rh1+,Kg6,f5+,Kg5,Rh5#', 'https://lichess.org/training/Xf4Lk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xf5NC', 'Blitz', 'GreggStanley', 2080, 'Frank_Hirata', 2002, 'Nf3,d5,c4,c6,g3,Nf6,b3,g6,Bb2,Bg7,Bg2,O-O,O-O,Re8,d3,Nbd7,cxd5,cxd5,Nbd2,e5,e4,d4,Nc4,b5,Nd6,Re6,Nxb5,Qb6,Na3,Ba6,Rb1,Rc8,Nc4,Bxc4,bxc4,Qa5,a3,Nc5,Bh3,Rce8,Bxe6,Rxe6,Bc1,Na4,Bd2,Qa6,Qc2,Nd7,Rb5,Ndc5,Rfb1,Re8,Ra5,Qc6,Rxa7,f5,Ng5,h6,Nf7,fxe4,Nxh6+,Kh8,Nf7+,Kg8,Ng5,exd3,Qc1,e4,Bf4,e3,Rc7,exf2+,Kxf2', 'Re2+,Kg1,Qg2#', 'https://lichess.org/training/Xf5NC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xF6yi', 'Rapid', 'SAMJO', 1721, 'nikhilrao', 1728, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Nbd7,O-O,Nc5,Be3,Be7,f3,O-O,a3,Bd7,Ba2,Re8,b4,e5,Nde2,Ne6,Ng3,Qc7,Nce2,Bc6,c4,b5,Rc1,Qb7,c5,Red8,Qb3,dxc5,Bxc5,Nxc5,Qxf7+,Kh8,bxc5,Bd5,exd5', 'Bxc5+,Rxc5,Qxf7', 'https://lichess.org/training/xF6yi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xf7D5', 'Rapid', 'Bourbankarel', 1608, 'capote007', 1961, 'e4,e6,d4,d5,exd5,Qxd5,Nc3,Bb4,Nf3,Nf6,a3,Bxc3+,bxc3,Nc6,c4,Qe4+,Be2,O-O,O-O,Bd7,Bd3,Qg4,h3,Qh5,g4,Nxg4,hxg4,Qxg4+,Kh1,f5,Rg1,Qh3+,Nh2,Nxd4,Bb2,Bc6+,f3,Bxf3+,Qxf3,Nxf3', 'Rxg7+,Kh8,Rg3+', 'https://lichess.org/training/Xf7D5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xf83j', 'Blitz', 'Ruminor', 2398, 'NM speedrunto23', 2575, 'Nf3,d5,c4,d4,e3,c5,exd4,cxd4,d3,Nc6,g3,e5,Bg2,h6,O-O,Nf6,Re1,Bd6,b4,Bxb4,Nxe5,Bxe1,Nxc6,bxc6,Bxc6+,Bd7,Qxe1+,Kf8,Bxa8,Qxa8,Bb2', 'Bh3,Qf1,Bxf1', 'https://lichess.org/training/xf83j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xF8aV', 'Blitz', 'Bherd25', 1776, 'Angelodoxadrez', 1706, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,h6,h4,Nf6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bd2,Bd6,O-O-O,Na6,a3,Nc7,Kb1,b5,Ne4,Nxe4,Qxe4,Nd5,Ne5,a5,Nxc6,Qb6,Ne5,a4,Ng6,fxg6,Qxg6+,Kf8,Rh3,b4,Rf3+,Kg8,Qxe6+,Kh7,Qg6+,Kg8,Rf7,Rh7,Bxh6,bxa3', 'Rxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/xF8aV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XfA5l', 'Rapid', 'zibi55', 1683, 'patrizio20', 1723, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Bb5+,c6,Ba4,O-O,O-O,Re8,h3,a5,a3,Nbd7,Nc3,b5,Bb3,a4,Ba2,Ba6,Re1,h6,Bxf6,Nxf6,Ne5,Qc7,Qf3,Bd6,Nxc6,Qxc6,Nxd5,Nxd5', 'Bxd5,Qc7,Bxa8', 'https://lichess.org/training/XfA5l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XFaIz', 'Classical', 'AgasthyaBhat', 1873, 'bader96', 1647, 'e4,e5,Nf3,Nc6,Nc3,a6,Bc4,b5,Bd5,Nd4,a4,Rb8,axb5,axb5,Ra8,Rxa8,Bxa8,d6,Nxd4,exd4,Bc6+,Bd7,Bxd7+,Qxd7,Ne2,Qg4,d3,Qxg2,Ng3,d5,exd5,Qxd5,Qe2+,Be7,c4,bxc4,dxc4,Qa5+,Bd2,Qa1+,Qd1,Qxd1+,Kxd1,Bh4,Re1+,Ne7', 'Nf5,Kd7,Nxh4', 'https://lichess.org/training/XFaIz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xfaOW', 'Classical', 'alexmtlai', 2075, 'Antherson_Az', 2037, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,g3,Bd6,Bg2,a5,O-O,O-O,Re1,dxc4,e4,Be7,Bg5,b5,Bxf6,Bxf6,d5,exd5,exd5,Bxc3,bxc3,cxd5,Re5,Bb7,Ng5,f6,Rxd5,Bxd5,Bxd5+,Kh8,Nxh7,Kxh7', 'Qh5#', 'https://lichess.org/training/xfaOW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XFbej', 'Rapid', 'Zhuge_Liang', 1689, 'headStrikes', 1691, 'd4,e6,Bf4,f5,Nf3,Nf6,Nbd2,h6,h3,Bd6,Bxd6,cxd6,e3,b6,Nh4,Bb7,Ng6,Rg8,h4,Ne4,Nxe4,Bxe4,f3,Qf6,h5,Bb7,Qd2,Nc6,a3,Ne7,Nxe7,Qxe7,O-O-O,O-O-O,Qb4,Kb8,Bc4,Rge8,Rhg1,Rc8,a4,Rc6,Bb5,Rc7,a5,Rec8,c3,bxa5,Qxa5,d5,Kd2,f4,Ra1,fxe3+,Ke2,Ba8,Ba6,Rf8,Qb5+,Bb7,Bxb7,Rxb7,Qa6,Qg5', 'Qd6+,Ka8,Qxf8+', 'https://lichess.org/training/XFbej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xfc52', 'Blitz', 'mississippiman', 1886, 'LuisAtake', 1833, 'd4,Nf6,c4,e5,dxe5,Ne4,Nc3,Bb4,Qc2,f5,e3,O-O,Bd3,Nxc3,bxc3,Bc5,Nf3,d6,O-O,Nc6,Nd4,Nxe5,Bxf5,Bxd4,Bxh7+,Kh8,cxd4,Nf3+,gxf3,Rxf3,Be4,Qg5+,Kh1,Rh3,f4,Qh6,Bb2,Be6,d5,Bg4,Rg1,Qh5,Rg2,Re8,Qc3,Re7,Rag1,Bf3,Bxf3,Qxf3,Qd2,Rxe3,Bxg7+,Kh7,Qc2+,Rd3,f5', 'Rxh2+,Kxh2,Qh3#', 'https://lichess.org/training/Xfc52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xFCbV', 'Blitz', 'Blacknot', 2229, 'Boltv', 2119, 'e4,c5,Nc3,e6,f4,Nc6,Nf3,b6,a3,Bb7,h3,d6,Bc4,Nf6,O-O,Qc7,d3,O-O-O,Qe1,d5,Ba2,dxe4,Nxe4,Nxe4,dxe4,Be7,Be3,Bf6,c3,e5,Rd1,exf4,Bf2,Be5,Ng5,Rxd1,Qxd1,Nd8,Bd5,h6,Nf3,Ne6,Bxb7+,Kxb7,Qd5+,Qc6,Nxe5,Qxd5,exd5,Ng5,h4,Ne4,Nxf7,Rf8,Ne5,g5,b4,Kc7,bxc5,bxc5,Rb1,Kd6,Ng6,Rf6,h5,Kxd5,Rb7,Ra6,Rd7+,Kc4,Ne5+,Kxc3,Be1+,Kc2,Nc4,Kb3,Ne5,Rxa3,Rd3+,Ka4,Rd7,Ra1,Kf1,Ng3+,Kf2,Ne4+,Ke2,Ng3+,Kd2,Ra2+,Kc1,Rxg2,Rxa7+,Kb3,Rh7,Nxh5,Rxh6,Ng3,Rb6+,Ka4,Nd3,c4,Nb2+,Rxb2,Kxb2,Ne2,Kc2,g4,Kd2,f3,Ke3,c3,Bxc3,Nxc3,Kf2,Ne4+,Kf1,g3,Ra6+,Kb5,Ra2,Kc4,Ra4+,Kd3,Ra3+,Nc3,Kg1,f2+,Kg2', 'Ke2,Ra1,Nd1,Ra2+,Ke1', 'https://lichess.org/training/xFCbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xFDVc', 'Classical', 'ajeeshkhan', 1717, 'katojama', 1772, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,O-O,O-O,d6,Bg5,h6,Bh4,Nd4,Nxd4,Bxd4,a4,c6,Qd2,Bxc3,bxc3,d5,exd5,cxd5,Bb3,Qa5,Bxf6,gxf6,Qxh6,Qxc3,Qxf6,Be6,f4,Qd4+,Kh1,Rae8,Rae1,Bd7,fxe5,Re6,Qg5+,Rg6,Qe3,Qg4,Rf2,Bc6,c4,d4,Qg3,Qh5,Bd1,Qh6,Qf4', 'Bxg2+,Rxg2,Qxf4', 'https://lichess.org/training/xFDVc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xffki', 'Blitz', 'SimianMaster', 2054, 'sebastianhof123', 2044, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d5,e3,O-O,cxd5,Nxd5,Bc4,Nxc3,bxc3,c5,O-O,Nc6,a4,Bg4,h3,Bf5,Re1,cxd4,e4,Bc8,Ba3,dxc3,Qc2,Qa5,Rab1,Nd4,Nxd4,Bxd4,Bxe7,Re8,Bd6,Qd8,Bb4,Be6,Bb5,Bd7,Bxc3,Rc8,Bxd7,Qxd7,Rbd1,Rxc3,Qd2,Rd8,Re2,Rc4,Qd3,Qc6,e5,Rd7,e6,fxe6,Re4,e5,Rxe5,Qd6,Re8+,Kg7,Re3,Bxe3,Qxd6,Rxd6,Rxd6,Bb6,Rd7+,Kh6,Rxb7,Rxa4,g4,Ra1+,Kg2,Kg5,Rf7,a5', 'f4+,Kh6,g5+,Kh5,Rxh7#', 'https://lichess.org/training/Xffki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xFFNN', 'Rapid', 'akramsoub', 1704, 'Ustkaman', 1750, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e5,dxe5,Nxe5,Nf3,Nxf3+,Qxf3,Qc7,Qc3,Qc6,Bd3', 'Bb4,Qxb4,Qxc1+,Ke2,Qxh1', 'https://lichess.org/training/xFFNN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xfhZW', 'Rapid', 'apollo017', 1976, 'bams', 1808, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qa4,Nd5,Qe4,e6,c4,Nde7,Bg5,Bg7,Nc3,O-O,Be2,Qb6,b3,Re8,O-O,Qa5,Nb5,Nf5,g4,a6,gxf5,axb5,fxg6,fxg6,cxb5,Ne7,Qh4,Nf5,Qg4,Qa3,Bf6,Qb2,Bxg7,Kxg7,Ng5,b6,Qh3,Rh8,Bf3,Rb8,Be4,Qxe5,Rfe1,Qf6,Bxf5', 'Qxg5+,Bg4,h5', 'https://lichess.org/training/xfhZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XFIjN', 'Rapid', 'eulersidentity', 1737, 'Crazzzyhorse', 1720, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,d6,O-O,Bg4,c3,Nf6,Re1,a5,d3,a4,Bc2,Qe7,Nbd2,d5,exd5,Nxd5,h3,Bh5,g4,Nf4,gxh5,Nxh3+,Kh2,Qe6,d4,Nf4,Ng5,Qh6,Ndf3,Qxh5+,Kg1', 'Qg4+,Kf1,Qg2#', 'https://lichess.org/training/XFIjN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xFIUu', 'Rapid', 'TbirdV', 1766, 'aparato', 1824, 'd4,e6,c4,d6,e3,Nf6,Nf3,Be7,Nc3,O-O,Bd3,d5,cxd5,exd5,O-O,c6,Qc2,b5,e4,b4,Ne2,Nbd7,b3,Bb7,a3,bxa3,Bxa3,Bxa3,Rxa3,Re8,e5,Ne4,Bxe4,dxe4,Qxe4,Nf6,Qc2,Nd5,Rfa1,a6,Nc3,Nb4,Qe2,Nd5,Na4,Rb8,Nc5,Nc3,Qd2,Nb5,Ra4,Nc7,Nxb7,Rxb7,Qc3,Rb6,Rb4', 'Nd5,Rxb6,Nxc3', 'https://lichess.org/training/xFIUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xfJ44', 'Classical', 'Chesseeker', 1820, 'saiftopa1234', 1810, 'd4,Nf6,c4,e6,a3,c5,d5,b5,b3,Bb7,Bg5,h6,Bh4,g5,Bg3,exd5,cxb5,Qa5+,Qd2,Qxb5,Qc2,Ba6,Nc3,Qa5,Rb1,Ne4,Be5,f6,Bxf6,Nxf6,Qg6+,Ke7,b4,cxb4,axb4,Qc7', 'Qxf6+,Kxf6,Nxd5+,Kf7,Nxc7', 'https://lichess.org/training/xfJ44');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XfKGg', 'Rapid', 'deusdeusdeus', 1869, 'Thorn321', 1786, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,e5,h6,exf6,hxg5,fxg7,Rg8,h4,gxh4,Qh5,Qf6,Nf3,Qxg7,Qxh4,Nc6,O-O-O,Bxc3,bxc3,Bd7,Qf4,O-O-O,g3,Rde8,Bh3,f6,Rhe1,e5,Bxd7+,Kxd7,dxe5,fxe5,Rxd5+,Kc8,Qf5+,Kb8,Nxe5,Nxe5,Rdxe5,Rd8,Qe4,Qh6+,f4,Qd6,Qe3,Qa3+,Kb1,Rg6,Rb5,Rgd6,Qe2,Qxc3,Rb3,Qd4,Qf3,b6,g4,Rg6,Rd3', 'Qb4+,Kc1,Qxe1+', 'https://lichess.org/training/XfKGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xFLfG', 'Blitz', 'IM DeandraChess', 2314, 'ArmandoSasam', 1958, 'd4,d5,c4,Nf6,Nc3,dxc4,e4,e6,Nf3,Nc6,Bxc4,Bb4,Bg5,h6,Bh4,g5,Bg3,Nxe4,O-O,Nxc3,bxc3,Bxc3,d5,Bxa1', 'Qxa1,O-O,dxc6', 'https://lichess.org/training/xFLfG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XFMld', 'Rapid', 'rubenspadola', 1870, 'chesswhenhavetime', 1930, 'e4,d5,exd5,Qxd5,d4,Qd8,c4,Nf6,Nc3,Bg4,Nf3,Bxf3,Qxf3,c6,Be3,e6,Bd3,Bd6,O-O,Bc7,Rad1,O-O,Ne4,Nbd7,Bg5,h6,Bh4,g5,Bg3,Bxg3,fxg3,Qe7,Bc2,Nxe4,Qxe4,f5,Qe2,Rae8,Rde1,Qf6,Kh1,Nb6,c5,Nd5,Bb3,Qxd4,Qh5,Kg7,h4,gxh4,gxh4,Nf6,Qf3,Qxh4+,Kg1,Ne4,Bc2,Ng3,Qc3+,Kg6,Rf3,Nh5,Ree3,Qf6,Qe1,Kf7,Qf2,Ng7,Bb3,Rh8,Rg3,h5,Qf4,h4,Rxg7+,Kxg7,g4,Kg6,Bc2,Qg5,Qf3,Kf6,Re4,h3,Rf4,h2+,Kh1,Qh4,Rxf5+,exf5,Qxf5+,Ke7,Qe5+,Kd8', 'Qd6+,Kc8,Bf5+,Re6,Bxe6#', 'https://lichess.org/training/XFMld');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xfNxN', 'Rapid', 'Eden10', 1670, 'TheNextBattle', 1689, 'e4,e6,d4,Ne7,Nc3,Ng6,Nf3,b6,Be3,Bb7,Bd3,Nc6,Qd2,Nh4,Nxh4,Qxh4,g3,Qe7,O-O-O,O-O-O,Qe2,Nb4,a3,Nxd3+,Qxd3,d5,exd5,Bxd5,Nxd5,Rxd5,Qa6+,Kb8,c4', 'Ra5,Qxa5,bxa5', 'https://lichess.org/training/xfNxN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XfoK3', 'Rapid', 'chessw0rker', 1737, 'Soccerboy07', 1656, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bc4,Nf6,Nc3,Qb6,Ndb5,a6,Be3,Qa5,e5,axb5,Bxf7+,Kxf7,exf6,exf6,O-O,Be6,Re1,Ne5,Ne4,d5,f4,Nc4,Ng3,Nxb2,Qd4,Nc4,f5,Rd8,fxe6+,Kxe6', 'Bd2+,Kf7,Bxa5', 'https://lichess.org/training/XfoK3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XFOYM', 'Rapid', 'Durkee', 1868, 'temp7396', 1855, 'Nf3,d5,d4,e6,Bf4,c5,e3,Nf6,c3,Nh5,Bg3,Nxg3,hxg3,Nc6,Bd3,b6,Nbd2,Bb7,Qc2,g6,Qd1,cxd4,Nxd4,Bg7,Nxc6,Bxc6,Qf3,Qc7,Qg4,O-O-O,Rh2,f5,Qe2,Kb8,a4,Be5,Nf3,Bd6,a5,e5,Ng5,Qe7,Nh3,Qc7,axb6,axb6,f3,e4,Bb5,Bxg3+,Kf1,Bxh2,Bxc6,Qxc6,Qa6,Qb7,Qb5,exf3,gxf3,Bc7,Ng5,Rde8,Kf2,Re7,Rd1,Rhe8,Rxd5,Rxe3,Nxh7,Re2+,Kf1,Bg3,Kg1,Rc2', 'Qxe8+,Qc8,Rd8,Qxd8,Qxd8+', 'https://lichess.org/training/XFOYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xfqar', 'Classical', 'CagnusMarlsenMG', 1664, 'Loogos', 1667, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,a6,d3,Nf6,Bg5,O-O,Nd5,Be7,Nxe7+,Qxe7,O-O,h6,Bh4,d6,Qd2,Nb8,Rfe1,Be6,Bb3,Bxb3,axb3,Nbd7,d4,Qe6,dxe5,dxe5,Rad1,Rad8,Qc3,c6,Nd2,g5,Bg3,b5,Nf3,Rfe8,Nxe5,Nxe5,Rxd8,Rxd8,Bxe5,Ng4,Bg3,c5,Qxc5,Rc8,Qd5,Rxc2,Qxe6,fxe6,f4,gxf4,Bxf4,h5,h3,Nf2,Be5', 'Nd3,Rf1,Nxe5', 'https://lichess.org/training/Xfqar');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XFQFl', 'Blitz', 'SchachAlexT', 1548, 'Mostafa_009821', 1614, 'e4,e5,Nf3,d6,Bc4,Be7,Nc3,Nf6,O-O,Nc6,d3,Bg4,h3,Bh5,Be3,Qd7,Re1,O-O-O,g4,Nxg4,Nd2,Nxe3,Qxh5,Nxc2,Qxf7,Nxa1,Be6,Nc2,Bxd7+,Kxd7,Rc1,N2d4,Nd5,Ne2+,Kf1,Nxc1', 'Qf5+,Ke8,Nxc7#', 'https://lichess.org/training/XFQFl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XFqkv', 'Classical', 'hmdi', 1734, 'josef3456', 1769, 'e4,e6,Nf3,d5,e5,c5,c4,Nc6,Nc3,d4,Ne2,Nge7,Nf4,Qc7,Nd3,Ng6,Qe2,Be7,g3,O-O,Bg2,Bd7,O-O,Rae8,Re1,f6,exf6,Rxf6,Ng5,e5,Bd5+,Kh8,Nf7+,Kg8,Nd6+,Kh8,Nxe8,Bxe8,a3,Bd6,f4,Bd7,fxe5,Ncxe5,Nxe5,Nxe5,d3,Nf3+,Bxf3,h6,Be4,Bxg3,Rf1,Bxh2+,Qxh2', 'Rxf1+,Kxf1,Qxh2', 'https://lichess.org/training/XFqkv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XFRZJ', 'Rapid', 'CLARKVALDIVIA', 1791, 'eor-reis', 1907, 'e4,d6,Nf3,Nf6,Bc4,c6,O-O,e5,Nc3,g6,d4,exd4,Nxd4,Bg7,Re1,O-O,e5,dxe5,Rxe5,Ng4,Re4,c5,Nf3,Qxd1+,Nxd1,Bf5,Rf4,Nc6,Ne3,Nxe3,Bxe3,b6,c3,Rad8,Re1,Ne5,Nxe5,Bxe5,Rf3,Bg4,Bh6,Bxf3,Bxf8,Kxf8,Rxe5,Bc6,f3,Rd1+,Kf2,Rd2+,Re2,Rd6,Kg3,b5,Bb3,c4,Bc2,a5,Kf4,b4,cxb4,axb4,Ke5', 'Re6+,Kd4,Rxe2', 'https://lichess.org/training/XFRZJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XFsOT', 'Classical', 'papuxio', 1722, 'Lsakblt', 1796, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,bxc6,Nxe5,Qe7,d4,c5,Nc3,Bb7,O-O,Nxe4,Nxe4,Bxe4,Re1,Qh4,Ng4,f5,f3,fxg4,Rxe4+,Be7,Qe2,cxd4,Rxg4,Qf6,Bg5,d3,Qxd3,Qb6+,Kf1,Bxg5,Rxg5,O-O-O,b3', 'Qf6,Qe4,Qxa1+', 'https://lichess.org/training/XFsOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XfTNU', 'Rapid', 'Anandh_frizz', 1807, 'Tigrgrgr', 1807, 'e4,d6,d4,g6,Nf3,Bg7,h3,Nf6,Nc3,O-O,Bd3,e5,d5,Nbd7,O-O,Nh5,Be2,f5,exf5,Rxf5,Nh4,Qxh4,g4,Rxf2,Rxf2,Ng3,Rh2,Nc5,Be3,Nce4,Nxe4,Nxe4,Qf1', 'Qg3+,Kh1,Qxe3', 'https://lichess.org/training/XfTNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xfvat', 'Blitz', 'Papahnya_ikhsan2310', 1611, 'flubberblubber', 1608, 'd4,c5,c3,cxd4,cxd4,e6,e4,a6,f4,d6,Nf3,Bd7,Bc4,Nc6,O-O,b5,Bb3,Nf6,Nc3,Be7,e5,dxe5,fxe5,Nd5,Nxd5,exd5,Bxd5,O-O,a3,Rc8,Be3,Kh8,Ba2,Bg4,Rc1,f6,Qd3,a5,Qxb5,fxe5,Nxe5,Nxe5,Qxe5,Bd7,Bb1,Be8,Bh6,Bf6,Qg3,Bxd4+,Kh1,Bf6,Bxg7+,Bxg7,Qh3,Rxc1', 'Qxh7#', 'https://lichess.org/training/Xfvat');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XfvlM', 'Blitz', 'gerbradley', 1714, 'Vibov', 1695, 'd4,c6,e3,d5,Bd3,Nf6,Nf3,Bg4,Nbd2,e6,O-O,Nbd7,Re1,c5,c3,cxd4,cxd4,Bd6,e4,dxe4,Nxe4,Nxe4,Bxe4,Rb8,h3,Bh5,b3,Nf6,Bd3,Rc8,Bg5,h6,Be3,Nd5,Be2,Nf4,Bxf4,Bxf4,Nd2,Bxe2,Qxe2,Rc2,Red1,Qa5,b4,Qxb4,Rab1,Rxd2,Rxb4,Rxe2,Rxb7,Rxa2,d5,exd5,g3,Bg5,Rxd5,O-O,Rdd7,Ra1+,Kg2,a5,Ra7,a4,Rd5,a3,Rda5,Bc1,Kf3,a2,Rxa2,Rxa2,Rxa2,Rc8,Kg4,Rc4+,Kf3,Rc3+,Ke2,Rb3,Ra8+,Kh7,Ra7,Rb2+,Kd1,Bg5,Rxf7,Bf6,Ke1,Rb1+,Ke2,Rb2+,Kf3,Bd4,Kg2,Kg6,Rf4,Be3,Rf3,Bc5,Kf1,Kg5,h4+,Kg4,Rf7,g5,hxg5,hxg5,Rf6,Rb1+,Kg2,Bd4', 'f3+,Kh5,g4+,Kh4,Rh6#', 'https://lichess.org/training/XfvlM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XFVWM', 'Rapid', 'Cnelok', 1781, 'Lamine0000', 1802, 'h3,c6,g4,d5,Bg2,h6,c3,Nf6,d3,e5,g5,hxg5,Bxg5,Be7,Nf3,Nbd7,h4,e4,dxe4,dxe4,Nd4,Qb6,b4,c5,bxc5,Bxc5,e3,Qb2,Nd2,Qxc3,Rc1,Qb4,Nb3,b6,Rc4,Qb5,Qc2,Bb7,Bxe4,Bxe4,Nxe4,O-O,Nxf6+,Nxf6,Bxf6,Bb4+,Kf1,Rac8,a4,Qa6,Nd2,Bxd2,Qxd2,Rxc4,Bd4,Rc2+,Ke1,Rxd2,Kxd2,Qa5+,Ke2,Qxa4,Rg1,g6,h5,Qc4+,Kf3,Kh7,hxg6+,fxg6+,Kg3,Qc7+,f4,a5', 'Rh1+,Kg8,Rh8+,Kf7,Rh7+,Ke6,Rxc7', 'https://lichess.org/training/XFVWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XFXd1', 'Rapid', 'frances_sagala', 1941, 'Gabo105', 1848, 'b3,e5,Bb2,Nc6,Nc3,Nf6,e4,Bc5,h3,d6,Nf3,Nd4,Na4,Nxf3+,Qxf3,Bb6,Bb5+,Bd7,Bxd7+,Qxd7,Nxb6,axb6,d4,exd4,Bxd4,Qe6,Bxf6,Qxf6,Qxf6,gxf6,Kd2,Rg8,Rhg1,O-O-O,Kc3,d5,exd5,Rxd5,g3,Rh5,h4,Rf5,Rgf1,Rf3+,Kb2,Rd8,Rae1,Kd7,Re2,Re8', 'Rd1+,Kc6,Rxe8', 'https://lichess.org/training/XFXd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XfXXB', 'Rapid', 'Schwatka', 1703, 'patooo', 1733, 'd4,e6,c4,b6,e4,Bb7,Nc3,Bb4,Bd3,d6,Ne2,h6,O-O,g5,d5,e5,Ng3,Bc8,Nce2,Bc5,Be3,Nd7,Qd2,Ngf6,b4,Bxe3,fxe3,Nf8,Nf5,Bxf5,Rxf5,Ng6,g3,Ng4,Raf1,h5,Rxf7,Rf8,Rg7', 'Rxf1+,Kxf1,Qf6+', 'https://lichess.org/training/XfXXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xFZ6V', 'Classical', 'Obizzle', 2110, 'Egor266', 1870, 'b3,d5,Bb2,Nf6,e3,Bf5,Nf3,e6,d4,Nbd7,Nbd2,c6,Be2,Ne4,Nxe4,Bxe4,O-O,Be7,c4,O-O,Ne5,Nxe5,dxe5,Bb4,a3,Ba5,f3,Bg6,b4,Bc7,cxd5,cxd5,Bd4,Bb6,g4,Bxd4,Qxd4,Qh4,f4,Be4,Rac1,Rac8,Qxa7,Rxc1,Rxc1,h6,Qxb7,Rd8,b5,Qh3,Kf2,Qxh2+,Ke1,Qg3+,Kd2,Qg2,Qc7,Ra8,Qc3,Bf3,Re1,Bxg4,b6,Bxe2', 'Rxe2,Qe4,b7', 'https://lichess.org/training/xFZ6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XfZVs', 'Rapid', 'CleverPawner', 2013, 'Jzm14', 1706, 'e4,e5,d4,exd4,Bc4,Nc6,Nf3,h6,Nxd4,Ne5,Bb3,Nf6,Nc3,Bc5,Be3,d6,O-O,O-O,Na4,Bg4,f3,Bh5,Nxc5,dxc5,Nf5,b6,Bf4,Ng6,Bg3,Nxe4,Qxd8,Raxd8,fxe4,c6,Nh4,b5,c4,b4,Ba4,Rd4,Bxc6,Rxc4,Bd5,Rc2,b3,Nxh4,Bxh4,Bg6,e5,Re2,Bg3,Rd8,Bc4,Rb2,Rfd1,Re8,Bd3,Bh5,Re1,Rd8,Bc4,Rdd2,e6,Rxg2+,Kf1,fxe6,Bxe6+,Kh7,Bh3,Rgd2,Bf4', 'Rf2+,Kg1,Rxf4', 'https://lichess.org/training/XfZVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xfZwp', 'Rapid', 'sashapytixatki', 1853, 'boyara', 1957, 'e4,e5,Nc3,Bb4,Nge2,f5,exf5,d5,a3,Ba5,b4,Bb6,Bb2,Bxf5,Ng3,Bg6,Be2,c6,Bh5,Qf6,Qf3,Nd7,Bg4,Qxf3,Bxf3,Bxc2,Rc1,Bg6,a4,Ngf6,a5,Bc7,O-O,O-O,Nge2,e4,Nd4,exf3,Nxf3,Ne5,Nxe5,Bxe5,Rfe1,Rae8,Na4,Bxb2,Nxb2,Rxe1+,Rxe1,Re8,Rc1,Re4,b5,c5,h3,c4,Na4,Re2,d4,b6,axb6,axb6,Nxb6,Rb2,Nc8,Rxb5,Ne7+,Kf7,Nc6,Kg8,Ne7+,Kh8,Nc6,h6,Ne7,Bd3,Kh2,Ne4,f4,Nd2,f5,Nb3,Re1,Nxd4,Ng6+,Kg8', 'Re8+,Kf7,Rf8#', 'https://lichess.org/training/xfZwp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xG0aJ', 'Rapid', 'abdulkadirfb', 1873, 'LaLinea', 1848, 'd4,Nf6,Nf3,g6,c3,Bg7,g3,O-O,Bg2,d5,O-O,b6,Re1,c5,e3,Bg4,Nbd2,Nbd7,Qa4,a6,dxc5,Nxc5,Qc2,Qc8,Nb3,Nce4,Nfd4,Bh3,Nf3,b5,Nbd4,Bxg2,Kxg2,Nd7,Qe2,e5,Nc2,f5,Nb4,Qb7,Rd1,Ndf6,Nxe5,d4,exd4', 'Nxc3+,Qf3,Qxf3+,Nxf3,Nxd1', 'https://lichess.org/training/xG0aJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XG0D6', 'Rapid', 'pepoid3', 1671, 'facundo85', 1795, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,c4,d6,Nc3,c5,Be2,Nc6,h3,b6,O-O,Nd7,Bh2,Bb7,d5,Nce5,Nxe5,Nxe5,Rc1,Qd7,a4,f5,f4,Nf7,Qb3,e5,dxe6,Qxe6,Qd1,Qxe3+,Kh1,Bxc3,Rxc3,Qe7,Re1,Qh4,Bg3,Qxh3+,Bh2,Qh6,Bf3,Bxf3,Qxf3,Rfe8,Rce3,Qf8,Rxe8,Rxe8,Rd1,Qe7,Qd5,Qe6,Qc6,Rc8,Qb7,Re8,Qxa7,Qxc4,Qxb6,Qxa4,Rg1,Qd7,b4,c4,Qd4,Rc8,Rc1,d5,Bg1,Qd6,Qd2,c3,Rxc3,Rxc3,Qxc3,Qxf4,Qc8+,Kg7,Qc3+,Kh6', 'Be3,Qxe3,Qxe3+', 'https://lichess.org/training/XG0D6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XG0wW', 'Rapid', 'masperado', 1818, 'tremoleke', 1909, 'f4,e5,fxe5,Nc6,Nf3,Qe7,d4,d5,exd6,Qxd6,c3,Nf6,Qd3,a6,e4,Bg4,e5,Qe7,Be2,Nd5,O-O,O-O-O,Ng5,Bxe2,Qxe2,f5,Rxf5,h6,Nf7,g6,Rf1,Bg7,Nxd8,Nxd8,Qg4+,Kb8,Qxg6,Rg8,Bxh6,Ne6,Bxg7,Rxg7,Qf5,Rg5,Qf7,Rxg2+,Kxg2,Qg5+,Kf3,Qe3+,Kg4,Qe2+,Qf3,Ne3+,Kg3', 'Nxf1+,Qxf1,Qxf1', 'https://lichess.org/training/XG0wW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xg1ql', 'Bullet', 'R_o_g_e_r', 1557, 'BanJoke', 1548, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d5,exd5,Nxd5,O-O,O-O,g3,Bh3,Re1,Na5', 'Bxd5,Qxd5,Re5,Qd7,Rxa5', 'https://lichess.org/training/xg1ql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xG2g8', 'Rapid', 'arun-kumarGo', 1622, 'ArtemChurkin', 1565, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,c5,Bb5+,Bd7,Qe2,a6,Bxd7+,Qxd7,Ne5,Qc8,Nd2,Nc6,Nxc6,Qxc6,c3,cxd4,exd4,Bd6,Bxd6,Qxd6,O-O,O-O,f4,Rac8,g3,Qb6,Nb3,Ne4,Qd3,a5,Rab1,a4,Nd2,Nf6,Nf3,Nd7,Ng5,f5,Rfe1,Rce8,Nf3,Nf6,Ne5,Qc7,Re2,Ne4,Rbe1,Rd8,Qb5,Ra8,a3,Ra5,Qd7,Qxd7,Nxd7,Rd8,Ne5,Rb5,Kg2,Rd6,Nd3,Kf7,h4,Rdb6,Nb4,h5,Kf3,Kf6,Re3,Nd2+,Kg2,Nc4,R3e2,Kf7,Kf3,Kf6,Nd3,Nxb2,Ne5,Rc6,Nd7+,Ke7,Nc5,Rbb6,Rb1,Nc4,Rxb6,Nxb6,Rb2,Kf6', 'Rxb6,Rxb6,Nd7+,Kf7,Nxb6', 'https://lichess.org/training/xG2g8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XG7e2', 'Rapid', 'terencetao', 1934, 'bogachess', 1864, 'a3,d5,c4,c6,e3,e5,d4,e4,cxd5,cxd5,Nc3,Nc6,Nge2,Bd6,Nxd5,Be6,Ndc3,Bf5,Ng3,Bg6,Ncxe4,Be7,Nc5,b6,Nd3,Nf6,Be2,O-O,O-O,Bd6,b4,h5,Nxh5,Ne4,Ng3,Bxg3,hxg3,Rc8,Bb2,Ne7,Nf4,Bh7,Bd3,f5,Ne6,Qd6,Nxf8,Rxf8,Bxe4,fxe4,Qd2,Rf6,Rac1,Rh6,Qc2,Qg6,Qc4+,Kh8,Rfe1,Qh5,Kf1,Qh1+,Ke2,Qxg2,Rf1,Rh2,Qf7,Bg6,Qxe7,Bh5+,Kd2,Qf3,Rc8+,Kh7,Rcc1', 'Qe2+,Kc3,Qd3#', 'https://lichess.org/training/XG7e2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xG7Mr', 'Blitz', 'helichrysum', 1756, 'Petrukio', 1738, 'e4,e5,Nf3,Nc6,c3,d6,Qc2,Bg4,Be2,Nf6,h3,Bxf3,gxf3,Be7,d3,h6,Rg1,g5,h4,Nh5,hxg5,hxg5,Qb3,Nf4,Qxb7,Na5,Qb5+,c6,Qa4,Qd7,Qxa5,Bd8,Qb4,Be7,Qb3,Qh3,Bxf4,exf4,Nd2,Qh2,O-O-O,Qxf2,Rde1,Kd7,Qb7+,Ke6,d4,Rab8,Bc4+,Kf6,e5+,dxe5,Ne4+,Kg7,Qxe7,Qxb2+,Kd1,Qb1+,Ke2,Rh2+,Kf1', 'Qxe1+,Kxe1,Rb1#', 'https://lichess.org/training/xG7Mr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xg7r7', 'Rapid', 'aam66', 1713, 'REOVking', 1733, 'd4,d5,c4,e6,e3,Nf6,Nf3,Nc6,Qc2,Bb4+,Nc3,O-O,a3,Be7,c5,b6,b4,a5,Bb2,Ba6,b5,bxc5,bxa6,cxd4,exd4,Bd6,Be2,e5,dxe5,Nxe5,O-O,Nc4,Bxc4,dxc4,Rfd1,Rxa6,Nb5,Ng4,Nxd6,Rxd6,Rxd6,Qxd6,Qxc4,Rd8,Qxg4', 'Qd1+,Ne1,Qxg4', 'https://lichess.org/training/xg7r7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xg8f2', 'Rapid', 'pawnimpact0007', 1614, 'parizo', 1914, 'e4,c5,Bc4,Nc6,f4,e6,Nf3,Nf6,O-O,Nxe4,f5,d5,fxe6,Bxe6,Bb5,Nf6,Ne5,Qc7,d4,Bd6,Bxc6+,bxc6,Bg5,cxd4,Bxf6,gxf6,Ng4,Bxg4,Qxg4,Qd7,Qe2+,Qe6,Qf2,Qe5', 'Re1,O-O-O,Rxe5', 'https://lichess.org/training/Xg8f2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xg8PP', 'Rapid', 'yaghmur', 1675, 'blacklung', 1683, 'd4,c5,dxc5,e5,e4,Bxc5,Bc4,Nf6,Qf3,O-O,h3,Nc6,Ne2,Nb4,Na3,b6,c3,Na6,Nb5,Nc7,O-O,Nxb5,Bxb5,Bb7,Bd3,d5,Bg5', 'dxe4,Bxe4,Bxe4', 'https://lichess.org/training/Xg8PP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgaZY', 'Classical', 'Lime_Leaf', 1669, 'predator30', 1843, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,Nxd4,Nxd4,Qxd4,d6,O-O,Qf6,Qd5,c6,Qd3,Be6,Bxe6,fxe6,Bf4,e5,Be3,Ne7,Nd2,Ng6,Rad1,Be7,Nc4,Rd8,Bxa7,O-O,Bb6,Rd7,Ba5,Nf4,Qb3,Kh8,Nb6,Qg5,Qf3,Rdd8,Nc4,Ra8,b4,d5,exd5,Nxd5,Qe4,Bxb4,Bxb4,Nxb4,a3,Rf4,Qxe5,Qxe5,Nxe5,Nxc2', 'Ng6+,Kh7,Nxf4', 'https://lichess.org/training/xgaZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XGcyx', 'Blitz', 'CM HCMB', 2325, 'krigor29', 1804, 'd4,d5,Nf3,Nc6,c3,Bg4,Bf4,Nf6,Nbd2,e6,h3,Bh5,g4,Bg6,Ne5,Nxe5,Bxe5,Ne4,Bg2,f6,Bh2,Nxd2,Qxd2,Bd6,Bxd6,Qxd6,h4,h6,O-O-O,O-O-O,h5,Bh7,f3,c5,e4,cxd4,Qxd4,Qf4+,Kb1,dxe4,Qc4+,Kb8,fxe4,Qxg4,Rdg1,Qf4,Ka1,e5,a4,Rd6,Bh3,Bxe4,Rxg7,Rc6', 'Rg8+,Rxg8,Qxg8+', 'https://lichess.org/training/XGcyx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XgD2s', 'Blitz', 'pram_andrey', 2178, 'Brenlla2', 2151, 'e4,e5,Bc4,Nf6,d3,Nc6,h3,d6,Ne2,Be7,a3,O-O,Nbc3,h6,Be3,Kh8,O-O,a6,Ng3,Nh7,Nd5,Bh4,Ne2,Ne7,g3,Nxd5,Bxd5,Bg5,f4,exf4,gxf4,Bf6,Kh2,Bxb2,Ra2,Bf6,Rg1,c6,Bb3,Be6,Nd4,Bxb3,cxb3,c5,Nf5,Rg8,Rag2,Nf8,Qh5,Kh7,Qxf7,Qe8,Rxg7+,Bxg7', 'Rxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/XgD2s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgdNk', 'Classical', 'rayyanharris02', 1759, 'Pombo234', 1742, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,Bg4,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,Bg5,Nd4,Bb3,Be7,Bxf6,Bxf6,c3,Nxb3,axb3,O-O,O-O,a6,Nd2,Rad8,f4,exf4,Rxf4,d5,exd5,Rxd5,Ne4,Be5,Rf5,Bh2+,Kxh2,Rxf5,g4,Re5,Rf1,Rd8,Rf3,Rf8,g5,f5,gxf6,Ra5,Rg3,g6,h4,Ra2,Rg2,Rd8,h5,Rxd3,hxg6,hxg6,Rxg6+,Kf7,Rg7+,Kf8,Rg2,Re3,Nc5,b6,Nd7+,Kf7', 'Rg7+,Ke6,Re7+,Kd6,Rxe3', 'https://lichess.org/training/xgdNk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XGemL', 'Blitz', 'FM HarryG7227', 2623, 'vicoy25', 2569, 'd4,Nf6,Bg5,d5,Bxf6,gxf6,c4,c6,e3,Bf5,Qb3,Qd7,Nc3,e6,Nf3,Bd6,Be2,O-O,O-O,Bg6,Rac1,dxc4,Bxc4,Be7,Rfd1,a5,e4,a4,Qc2,Na6,Nxa4,Nb4,Qb3,Rxa4,Qxa4,b5,Qa5,bxc4,Rxc4,Rb8,a3,Na2,d5,cxd5,exd5,exd5,Rxd5,Qe6,h4,h5,b4,Be4,Rxh5,Qxc4,Qa7,Rd8,Qxe7,Qc1+', 'Kh2,Qd1,Qxe4', 'https://lichess.org/training/XGemL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgevC', 'Rapid', 'CEPOB', 1723, 'revmegdad96', 1606, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,e3,b6,a3,Be7,Bd3,Bb7,Nf3,d6,O-O,Nbd7,Qc2,Bxf3,gxf3,d5,cxd5,exd5,e4,c5,e5,c4,Bxc4,dxc4,exf6,Nxf6,Ne4,Qxd4,Bc3,Qd8,Rad1,Qc7,Nxf6+,Bxf6,Bxf6,gxf6,Kh1,Qc6,Rg1+,Kh8,Qc3,Rg8,Rd4,Qe6,Rf4,Rad8,Rxf6,Rxg1+,Kxg1,Rd3', 'Rxe6+,Rxc3,Re8+,Kg7,bxc3', 'https://lichess.org/training/xgevC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XGf0z', 'Rapid', 'wamabande', 1663, 'Andrey1972', 1716, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxf7+,Kxf7,Bxb2,Bb4+,Nc3,Nf6,Qb3+,Ke7,Qxb4+,d6,Nf3,Nc6,Qc4,Be6,Nd5+,Kd7,O-O,Kc8,Bxf6,gxf6,Qc3,Ne5,Nxe5,fxe5,Rfc1,c6,Nb4,Bd7,Rd1,Qe7,Rac1,a5,Nd5,Qd8,Ne3,Be8,Nf5,Ra6,Rxd6,Qg5,Qc4,Bd7,Rcd1,Bxf5,exf5,Qxf5,Qh4,Kb8,Qe7,Rb6,Rf6,Rb1', 'Qd6+,Kc8,Rxf5', 'https://lichess.org/training/XGf0z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XgF4l', 'Classical', 'hari0908', 1641, 'FedorShpynev', 1663, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Qf3,Nf6,Bc4,O-O,Nc3,Re8,Bg5,d5,Bb3,Bg4,Bxf6,Qxf6,Qxf6,gxf6,O-O,d4,Na4,Rxe4,Nxc5,Re2,Rae1,Rae8,Rxe2,Rxe2,f3,Bf5,g4,Bxc2,Bxc2,Rxc2,Nd7,Kg7,Rb1,d3,Kf1,d2,Ke2', 'Rc1,Kxd2,Rxb1', 'https://lichess.org/training/XgF4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xGFFw', 'Blitz', 'lucky_picks', 1706, 'Fraude05', 1749, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,h3,Bxf2+,Kxf2,Nxe4+,Kg1,Qd4+,Kh2,Nf2,Qe2+,Be6,Nc3,h5,Be3,Ng4+,Qxg4,Qxe3,Qxg7,O-O-O,Be2,Rdg8,Qf6', 'Qg3+,Kg1,Qxg2#', 'https://lichess.org/training/xGFFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgGdW', 'Classical', 'morseli', 1726, 'Gaschem', 1747, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,h3,Bd7,e3,c6,Nf3,h6,Bh4,Bd6,Ne5,O-O,c5,Be7,Nxd7,Nbxd7,Bd3,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Bxe4,Nf6,Bc2,Rfd8,O-O,e5,Re1,exd4,exd4,Qd7,a3,Qxd4,Qxd4,Rxd4,b4,Rad8,Re2,Rd2,Rxd2,Rxd2,Bf5,g6,Bc8,b6,Bb7,bxc5,bxc5,Rc2,Bxc6,Rxc5,Ba8,a5,a4,Rc4,Bf3,Kg7,Kf1,h5,Ke1,Nd7,Kd2,Nc5,Bc6', 'Nb3+,Kd3,Rxc6', 'https://lichess.org/training/xgGdW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XGHm2', 'Rapid', 'manvenandres', 1643, 'iruntimer', 1746, 'e4,c5,h3,e6,g4,a6,Bg2,Nc6,d3,d6,Ne2,Be7,O-O,Nf6,Nbc3,O-O,Ng3,Nd7,f4,Nd4,Nce2,d5,Nxd4,cxd4,exd5,exd5,Bxd5,Nf6,Bc4,b5,Bb3,Bb7,g5,Nd5,c4,Ne3,Bxe3,dxe3,Qe2,Bc5,a4,b4,Rad1,a5,Ne4,Bxe4,dxe4,Qc8,Kh2,Rd8,Bc2,Qb7,Rd5,Rxd5,cxd5,b3,Bb1,Qb4,Qb5', 'Qd2+,Kg3,e2', 'https://lichess.org/training/XGHm2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XGHwx', 'Classical', 'leforero', 1710, 'Pontus4Chess', 1817, 'e4,c5,Nf3,d6,c3,Nf6,d4,cxd4,cxd4,Nxe4,d5,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,Ng5,Nbd7,f4,Nb6,Bb3,Bd7,Bc2,Rc8,f5,Rc5,fxg6,fxg6,Nge4,Nxe4,Rxf8+,Qxf8,Bxe4,Bf5,Bf3,Qf7,Be3,Rc4,Qb3,Bd4,Bxd4,Rxd4,Nb5,Rd3,Nc3,e5,dxe6,Bxe6,Qb5,Rd2,Ne4,Bc4,Qg5,Rxb2,Nxd6,Qd7,Nxc4,Nxc4,Bd5+,Kg7,Bxc4,Qd4+,Kh1,Qxc4', 'Qe5+,Kh6,Qxb2', 'https://lichess.org/training/XGHwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xGhYo', 'Rapid', 'carlonchoperu', 1669, 'mevlutarikan', 1619, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,d6,Ng5,O-O,d3,h6,Nf3,Nc6,Be3,Bxe3,fxe3,Be6,Bb3,Bxb3,axb3,Ng4,O-O,Nxe3,Qe1,Nxc2,Qg3,Nxa1,Rxa1,Nb4,Nh4,Qf6,Ra4,Nc6,Nd5,Qd8,Nf5,Qg5,Qe1,Rac8,h4,Qd8,Qg3,g6,Nxh6+,Kh7,Ng4,f5,exf5,Rxf5,Qe3,Qxh4', 'Ngf6+,Qxf6,Nxf6+', 'https://lichess.org/training/xGhYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xGiHI', 'Bullet', 'Dmitry_Shubin', 2122, 'ZamekhovskiyCM', 2217, 'e4,c6,Nc3,d5,exd5,cxd5,Nf3,Nf6,b3,e6,Bb2,Bb4,Qe2,O-O,O-O-O,a5,Kb1,Nc6,g4,Bxc3,Bxc3,Ne4,Ba1,a4,d3,axb3,dxe4,Rxa2,Bb2,Qa5,cxb3,Nb4,Qb5', 'Ra1+,Bxa1,Qa2+,Kc1,Qc2#', 'https://lichess.org/training/xGiHI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgMiq', 'Rapid', 'tomsdal', 1811, 'bl4de_runner', 2149, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,Bc4,Qa5,O-O,e6,Kh1,Qc7,Bb3,e5,Nf5,g6,Nd5,Nxd5,Bxd5,gxf5,exf5,f6,Bh4,h5,Re1,Nb6,c4,Nxd5,cxd5,Bxf5,f4,Qc4,Bxf6,Rh7,fxe5,Kf7,Rc1,Qd3,Rc7+,Kg6,Rxh7,Qxd1,Rxd1,Kxh7,e6,Kg6,Bh4,Bg7,Rc1,Bxb2,Rc7,Be4,e7,Bf6,Bg3,Be5,Bxe5,dxe5,d6,Kf7,h4,Bxg2+,Kxg2,Rg8+,Kh3,Ke6,d7,Kxe7,Rc8,Rd8,Kg3,Rxd7,Kf3,b5,Ke4,a5,Kxe5,b4,Rc5,a4,Rb5,b3,axb3,axb3,Rxb3,Rd6,Kf5,Rf6+,Kg5,Kf7', 'Rb7+,Ke6,Rb6+', 'https://lichess.org/training/xgMiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgn5L', 'Rapid', 'nicasio', 1753, 'raminarabnejad', 1851, 'e4,e5,b3,Nf6,Nc3,Nc6,Bb2,Bc5,h3,d6,Nf3,Be6,Bb5,O-O,O-O,Nd4,Nxd4,Bxd4,Rb1,Nxe4,Nxe4,f5,Bxd4,fxe4,Bb2,Qg5,Kh2,Rf6,Be2,Rh6,Bg4', 'Bxg4,Qxg4,Qxg4', 'https://lichess.org/training/xgn5L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgNm4', 'Blitz', 'Glubberer2', 1719, 'marcodevil234', 1710, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bd3,Bd6,Nge2,O-O,Bf4,Re8,Qd2,Bb4,O-O-O,Ne4,Bxe4,Rxe4,f3,Re7,g4,Nc6,h4,Rxe2,Qxe2,Bxc3,bxc3,Be6,g5,Na5,h5,c6,g6,Nc4,h6,Qa5,hxg7', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/xgNm4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgNm5', 'Classical', 'valars', 1712, 'heeltydspeeltyd', 1797, 'e4,d5,e5,f6,exf6,Nxf6,d4,Bf5,Bg5,e6,Bxf6,Qxf6,Bd3,Qxd4', 'Bb5+,c6,Qxd4', 'https://lichess.org/training/xgNm5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xGoYA', 'Blitz', 'FhabiaLugas', 2100, 'jokosungkono', 2212, 'd4,d5,c4,e6,Nc3,Nf6,e3,Be7,Bd3,Nbd7,Nf3,c5,O-O,O-O,b3,b6,Bb2,Bb7,cxd5,exd5,Ne2,Rc8,Rc1,Ne4,dxc5,Ndxc5,Bb1,Bf6,Ned4,Qd7,Qe2,Qg4,h3,Qh5,Qe1,Rfe8,Qd1,h6,b4,Ne6,Rxc8,Rxc8,Qb3,Bxd4,Nxd4,Nd2,Qd3,Nxf1,Qh7+,Kf8,Nxe6+,Ke7,Nf4,Qd1,Bd3,Nxe3+,Kh2,Nc4,Bxg7,Qd2,Qxh6,Qxf2,Qf6+,Kd7,Bf5+,Kc7,Bxc8,Kxc8,Qxf7,Bc6,Qe6+,Kb7,Bh6,Nd2,b5', 'Nf3+,Kh1,Qf1#', 'https://lichess.org/training/xGoYA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgpmd', 'Rapid', 'martinm1996', 1772, 'Chessy23', 1841, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,Nxe4,Nxe4,d5,Bxd5,Qxd5,Re1,Bg4,c3,Nc6,Bf4,Bxf3,Qxf3,e5,dxe5,Nxe5', 'Nf6+,Bxf6,Qxd5', 'https://lichess.org/training/xgpmd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xGqkn', 'Rapid', 'Linkov13', 1631, 'pharv', 1847, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Bg4,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,O-O,Bb4,f3,Bxc3,dxc3,O-O-O,Be3,b6,Rad1,Rxd1,Rxd1,Rd8,Rxd8+,Kxd8,g4,Nd7,f4,exf4,Bxf4,g6,h4,Nf6', 'Bg5,Ke7,e5', 'https://lichess.org/training/xGqkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgqXI', 'Rapid', 'pierrebb', 1981, 'ferrucciolari', 1883, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Nxe5,d5,Qe2,c6,d3,dxc4,Qxe4,Be7,Qxc4', 'Qa5+,Nc3,Qxe5+', 'https://lichess.org/training/xgqXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgqxV', 'Blitz', 'GM hiimgosu', 2748, 'tamik', 2519, 'd4,Nf6,Nf3,e6,Bf4,b6,e3,Bb7,c3,Bd6,Bxd6,cxd6,Bd3,O-O,O-O,Be4,Bxe4,Nxe4,Nbd2,d5,c4,Nxd2,Nxd2,dxc4,Nxc4,d5,Ne5,Nd7,Nc6,Qf6,Rc1,Rfc8,Qa4,a6,Rc3,b5,Qa5,Kf8,Rfc1,h5,h3,g5,Ne5,Qd8,Qxd8+,Rxd8,Nxd7+,Rxd7,Rc8+,Rxc8,Rxc8+,Ke7,Ra8,Rd6,Ra7+,Kf6,Rc7,h4,Kf1,Kf5,Ke2,f6,Kf3,e5,b3,e4+,Ke2,Ke6,Kd2,Rb6,Kc3,b4+,Kb2,a5,Rc5,Ra6,a3,bxa3+,Kxa3,f5,Ka4,f4,Rc8,Rb6,Rg8,Kf5,Re8,fxe3,fxe3,Rb4+,Ka3,Kf6,Ra8,Rb5,Rc8,g4,hxg4,Kg5,Rg8+,Kf6,g5+,Kf5,g6,Rb6,Ka4,Rxg6', 'Rxg6,Kxg6,Kxa5,Kh5,b4,Kg4,b5,Kg3,b6,Kxg2,b7', 'https://lichess.org/training/xgqxV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XgR1j', 'Rapid', 'Ahafff', 1709, 'Lcsone', 1694, 'e4,c5,Bc4,d6,Nc3,Nf6,d3,g6,Nf3,Bg7,h3,O-O,Bg5,h6,Bh4,Nc6,a3,Bd7,g4,Qb6,g5,hxg5,Bxg5,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/XgR1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xGruH', 'Rapid', 'EdinxonRojas1', 1617, 'new1111111', 1632, 'e4,e6,Nf3,d5,d3,Ne7,e5,c5,Nbd2,Nbc6,b3,Ng6,Bb2,Qc7,Be2,Ncxe5,O-O,Bd6,Re1,Ng4,g3,h5,d4,cxd4,Nxd4,Bd7,Bxg4,hxg4,Qxg4,e5,Qe2,O-O-O,Nb5,Bxb5,Qxb5,f5,Re3,f4', 'Rc3,Qxc3,Bxc3', 'https://lichess.org/training/xGruH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgrwg', 'Blitz', 'Salvadorz', 1649, 'LePionF', 1809, 'd4,Nf6,c4,e6,Nf3,b6,e3,Bb4+,Nc3,O-O,a3,Bxc3+,bxc3,Bb7,Bd3,Ne4,Bb2,d5,O-O,Nd7,Re1,Ndf6,cxd5,exd5,h3,Rc8,c4,c6,cxd5,cxd5,Ne5,Qe7,f3,Nc3,Qd2,Na4,Bc1,Nc5,Bb1,Nb3,Qb2,Nxa1,Qxa1,Nd7,Ng4,f5,Nf2,Nf6,Bxf5,Rcd8,Qb1,Bc8,Bd3,Nh5,Bxh7+,Kh8,Bg6,Ng3,Ng4,Bxg4,hxg4,Qh4,Bd2,Rxf3,gxf3', 'Qh1+,Kf2,Qh2#', 'https://lichess.org/training/xgrwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xGrz4', 'Blitz', 'ronaldomponte', 1852, 'asih14', 1916, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,g6,Be3,Bg7,Qd2,Bd7,O-O-O,a6,f3,Nf6,a3,b5,g4,Ne5,h4,h5,gxh5,Nxh5,f4,Nc6,Rg1,Rb8,f5,b4,axb4,Rxb4,Nd5,Qa5,Nb3,Rxb3,cxb3,Qa1+,Kc2,Nb4+,Nxb4', 'Qxb2+,Kd3,Bb5#', 'https://lichess.org/training/xGrz4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgSqd', 'Classical', 'tanzids', 1890, 'defensabelga4', 1779, 'c4,e6,Nf3,d6,g3,c6,Bg2,b6,d4,Bb7,O-O,Na6,a3,Nc7,Nc3,Be7,b4,Nf6,Re1,Ng4,Bb2,h5,h3,Nf6,Qc2,Qd7,Rad1,O-O-O,c5,b5,Ne5,dxe5,dxe5,Nfd5,e4,Nxb4,axb4,Qe8,Qb3,Rd7,Qa3,a6,Qa5,Bd8,Qa1,Bg5,Ne2,Qe7,Nc1,Rxd1,Rxd1,Rd8,Nb3,Rxd1+,Qxd1,g6,Na5,Ba8,Qd6,Ne8,Qd3,Qd7,Qf3,Bd2,Qa3,Nc7,Nb3,Be1,Bf3,Bd2,Bd4,Bg5,Qb2,h4,g4,Bf4,Qc3,Qd8,Be3,Qg5,Qd4,Bxe3,fxe3,Qd8,Qd6,Qd7,Kf2,Ne8,Qf8,Kd8,Be2,Qe7,Qxe7+,Kxe7,Kf3,f6,Kf4,fxe5+,Kxe5,Nf6,Nd4', 'Nd7+,Kf4,e5+', 'https://lichess.org/training/xgSqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XgSSG', 'Rapid', 'zolegl', 2084, 'Chiing_chong', 2247, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nh3,h6,Nf4,Bh7,Bd3,Bxd3,Qxd3,Nf6,O-O,e6,Re1,Be7,Rxe6,fxe6,Nxe6,Qc8,Qg6+,Kd7,Nxg7,Qg8,Qf5+,Kd8,Ne6+,Kd7,Nc5+,Kc7,Bf4+,Kb6,Na4+,Ka6,Qe5,Qf7,Nf5,Re8,Re1,Nbd7,Qe2+,b5,c4,Bb4,cxb5+,cxb5,Be5,Bxe1,Nd6,Qd5', 'Nc5+,Qxc5,dxc5', 'https://lichess.org/training/XgSSG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xGsUQ', 'Rapid', 'Borgeschess123', 1889, 'LorenChess', 1896, 'e4,e6,Nf3,d5,Nc3,c5,exd5,exd5,d4,Nc6,Bb5,Bd7,O-O,Nf6,Re1+,Be7,Qe2,O-O', 'Bxc6,bxc6,Qxe7,Qxe7,Rxe7', 'https://lichess.org/training/xGsUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgtyC', 'Blitz', 'ayoub-cherkaoui', 1845, 'zoobaba', 1884, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,c3,Be6,Bxe6,fxe6,d3,Nc6,Nbd2,d5,Re1,Qd6,Nf1,O-O-O,a4,dxe4,Ng5,Rhf8,Nxe4,Nxe4,Rxe4,Qxd3,Qxd3,Rxd3,Be3,Rf5,Rg4,g6,Ng3,Rf7,Ne4,a6,Ng5,Bxg5,Rxg5,Rf5,Rg4,Ne7,a5,h5,Rg3,h4,Rg4,h3,gxh3,c6,Rh4,Nd5,Rh8+,Kd7,Rh7+,Kc8,Rh8+,Kc7,Ba7,Rg5+,Kf1,Rh5,Rg8,Ne7', 'Bb6+,Kd7,Rd8#', 'https://lichess.org/training/xgtyC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgu6e', 'Rapid', 'u_teu', 1841, 'Bashir517', 1839, 'e4,e5,Nf3,d5,Bd3,dxe4,Bxe4,Bd6,d4,Bg4,dxe5,Bb4+,Bd2,Bxd2+,Nbxd2,Nc6,Bxc6+,bxc6,h3,Bh5,g4,Bg6,h4,h6,h5,Bh7,c3,Ne7,Qe2,O-O,O-O-O,Rb8,Ne4,Nd5,g5,Bxe4,Qxe4,Rxb2,Kxb2,Qb8+,Kc2,Qb5,Rb1,Qc5,Qd4,Qa5,Rb2,Rd8,Kb1', 'Nxc3+,Ka1,Rxd4', 'https://lichess.org/training/xgu6e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XGuBE', 'Blitz', 'Chita20', 1804, 'JAYSHARMAOP0981', 1747, 'd4,Nf6,Bf4,e6,e3,c5,c3,cxd4,exd4,Be7,Nf3,O-O,Nbd2,h6,Bd3,d5,Qc2,Nc6,O-O,b6,Ne5,a5,Nxc6,Qd7,Nxe7+,Qxe7,Qb3,Rd8,Be5,Ng4,Bg3,Bb7,Qxb6,Nf6,Nf3,Ne4,Bxe4,dxe4,Ne5,f6,Nc6,Bxc6,Qxc6,Rdc8,Qxe4,f5,Qd3,Ra6,Be5,Rac6,Rfe1,g5,Qh3,Qh7,Qh5,Kf8,a3,Rb6,Rab1,Rcc6,Bg3,f4,Bxf4,gxf4,Qe5,f3,Qf4+,Ke7,Qxf3,Kd7,Qe4,Qe7,f4,Kc7,f5,h5,fxe6,Rxe6,Qf4+,Kb7,Rxe6,Rxe6,Qf3+,Ka6,Qxh5', 'Re1+,Kf2,Qe3#', 'https://lichess.org/training/XGuBE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgulV', 'Rapid', 'macosta_dmg', 1880, 'Crapidity', 1887, 'd4,d5,Nf3,g6,e3,Nf6,c4,Bg7,cxd5,Nxd5,Nc3,O-O,Bd2,Bg4,h3,Bf5,e4,Nxc3,bxc3,Bxe4,Bc4,Nc6,O-O,e6,Nh2,Bd5,Bd3,Na5,Qa4,b6,c4,Bc6,Qa3,Bxd4,Rad1,Nb7,Bb1,Bg7,Bb4,Qf6,Bxf8,Bxf8,Ng4,Qg5,Qb3,Bc5,Kh1,h5,f4,Qh4,Ne5,Na5,Qc3,Bb7,Rd7,Rf8,Nxg6,Bb4,Qxb4', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/xgulV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XgW0M', 'Rapid', 'yankar', 1961, 'gavon', 1971, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Nf3,c5,dxc5,Na6,e3,Nxc5,Bd2,Qc7,Be2,b6,O-O,Bb7', 'Nb5,Qb8,Bxb4', 'https://lichess.org/training/XgW0M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xGyE5', 'Rapid', 'JimmyOlsen', 2066, 'aspi1051', 1975, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,d6,Nbd2,h6,Nf1,Qe7,Be3,Bxe3,Nxe3,Be6,Nd5,Bxd5,exd5,Na5', 'Qa4+,c6,Qxa5', 'https://lichess.org/training/xGyE5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XGykj', 'Rapid', 'eatdogeat', 1766, 'diplinf', 1720, 'd4,e6,e4,d5,Nc3,c5,Bf4,Nc6,Nb5,Nf6,Nc7+,Ke7,Nxa8,cxd4,exd5,Nxd5,Bd2,Bd7,Bc4,Qxa8,Bxd5,exd5,Qe2+,Kd8,Nf3,Bd6,O-O-O,Re8,Qd3,f6,Qxh7,g5,Rhe1,Qc8,Rxe8+,Bxe8,Qg7,Bb4,Qxf6+,Kc7,Bxb4,Nxb4,Kb1,Kb8,Nxd4,Ka8,Qxg5,Ba4,b3,Bd7,h4,a5,h5,a4,Qd2,Qc5,h6,axb3,cxb3,Qe7,Rh1,Qh7+,Ka1,Nc6,Nxc6,bxc6,f3,Bf5,g4,Bc2,g5', 'Qh8+,Qd4,Qxd4#', 'https://lichess.org/training/XGykj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XgZCJ', 'Rapid', 'E-XT-raordinary', 1937, 'ANANDCHESS64', 1953, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,Nf6,e5,dxe5,dxe5,Nd5,O-O,O-O,Ne4,Nb6,Bb3,Bf5,Neg5,Bg4,Qxd8,Raxd8,h3,Bxf3,Nxf3,Rd3,Rad1,Rxd1,Rxd1,Re8,Rd3,h6,Re3,a5,e6,fxe6,Rxe6,Rxe6,Bxe6+,Kf8,Kf1,Ke7,Bb3,a4,Bc2,Nb4,Bb1,c5,Ne5,N6d5,Nd3,c4,Nxb4,Nxb4,a3,Nd3,Bxd3,cxd3,Ke1,Kd6,Kd2,Kd5,Kxd3,b5,Kc3,Kc5,h4,g6,g4,g5,hxg5,hxg5,f3,Kd5,Kb4,Kc6,Ka5,Kc5,Ka6,b4,Ka5,bxa3', 'bxa3,Kc4,Kxa4', 'https://lichess.org/training/XgZCJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xgZum', 'Rapid', 'aligolshanzadeh', 1959, 'Alibabaaaaa', 2036, 'e4,c5,Nc3,d6,Nf3,Nf6,d4,cxd4,Nxd4,a6,g3,b5,Bg2,Bb7,a3,e5,Nf5,g6,Ne3,Be7,Ned5,Nbd7,Bg5', 'Nxd5,Nxd5,Bxg5', 'https://lichess.org/training/xgZum');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XH0qK', 'Rapid', 'Azoha', 2136, 'leoch9', 2095, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,c3,Nf6,d4,exd4,cxd4,Bb4,a3,Ba5,b4,Bb6,d5,Bd7,dxc6,bxc6,Bd3,O-O,Nc3,h6,e5,Ng4,exd6,cxd6,Bf4,d5,Rc1,Qf6,Qd2,g5,Bg3,Qg7,Na4,f5,h3,f4,Nxb6,axb6,hxg4,fxg3,Bf5,gxf2+,Rxf2,Rxa3,Nd4,c5,bxc5,bxc5,Rxc5,Ra1+,Kh2,Qe5+,g3,Bxf5,Nxf5,Qe4,Qxd5+,Qxd5,Rxd5,Ra6,Rd7,Rf7,Nxh6+', 'Rxh6+,Kg1,Rxd7', 'https://lichess.org/training/XH0qK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xh1kk', 'Rapid', 'zoran1955', 1752, 'Alexxadrez32', 1970, 'e4,d6,d4,Nf6,Nc3,c6,Bg5,h6,Bh4,g5,Bg3,h5,f3,h4,Bf2,Bh6,Bc4,Nbd7,e5,Nh5,e6,fxe6,Bxe6,Ndf6,Qe2,Bxe6,Qxe6,Qd7,Qxd7+,Kxd7,O-O-O,g4+,Kb1,Bg5,Ne4,Nxe4,fxe4,g3,hxg3,hxg3,Be1,Nf4,Rxh8,Rxh8,Bxg3,Nxg2,Nf3,Bf4,Bxf4,Nxf4,e5,d5,b3,Rh3,Rf1,Ne2,Rf2,Nc3+,Kc1,Ne4,Rf1,b6,Kb2,c5,dxc5,bxc5,Ne1,Ke6,Nd3,c4', 'Nf4+,Kxe5,Nxh3', 'https://lichess.org/training/Xh1kk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xh24o', 'Rapid', 'Reino2k', 1637, 'Lupuss', 1703, 'e4,g6,d4,d6,Nf3,Bg7,Be2,Nf6,Nc3,O-O,O-O,c5,Be3,cxd4,Bxd4,Nc6,Bxf6,Bxf6,a3,Ne5,Nxe5,Bxe5,Qd3,Qb6,Rab1,Qc7,Nd5,Qd8,b4,Be6,c4,Bxd5,cxd5,e6,dxe6,fxe6,Bd1,Qh4,g3,Qg5,Bb3,Rae8,f4,Bxf4,Rxf4,Rxf4,h4,Rxh4,Qxd6,Rg4,Bxe6+,Kh8', 'Qd4+,Qf6,Qxf6#', 'https://lichess.org/training/Xh24o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xh2gS', 'Bullet', 'HapeSpeed', 1740, 'dennis_rutar', 1849, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,Nf6,e5,dxe5,fxe5,Nd5,O-O,Bg4,Nc3,Nxc3,bxc3,Nxe5,Qe2,Nxf3+,gxf3,Bh5,Qe4,Qc7,Bb5+,Kd8,Qd5+,Kc8,Qxh5,e6,Ba3,a6,Bd3,Qf4,Bxc5,Qxd2,Bxf8,Qe3+,Kg2,Rxf8,Rae1,Qd2+,Re2,Qxc3,Qxh7,Kc7,Qe4,Qf6,Rb1,Qg5+,Kh1,Rab8,Qc4+,Kd7,Re4,Rh8,Rd4+,Ke7,Qc7+,Kf6,f4', 'Rxh2+,Kxh2,Rh8+,Bh7,Rxh7#', 'https://lichess.org/training/xh2gS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xh33N', 'Blitz', 'Vakulenko', 2420, 'CM FourNinetySix', 2421, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bb4+,Nbd2,Qe7,e3,Ngxe5,Nxe5,Nxe5,Be2,O-O,O-O,Bxd2,Qxd2,d6,Rac1,f6,Qc3,b6,b4,a5,a3,Bb7,c5,axb4,axb4,d5,cxb6,cxb6,Qc7,Qxc7,Rxc7,Rf7,Rfc1', 'Rxc7,Rxc7,Ra1+,Bf1,Ba6', 'https://lichess.org/training/Xh33N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xh3zH', 'Blitz', 'samir2323', 2146, 'AljechinsPutzfrau', 2274, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h4,e5,Nb3,Be6,Be2,h6,Be3,b5,g4,b4,Nd5,Nxd5,exd5,Bd7,Qd2,Be7,O-O-O,a5,Kb1,a4,Nc1,Qa5,h5,Na6,g5,Nc5,gxh6,gxh6,Bxh6,Rxh6,Qxh6,b3,cxb3,Bf5+,Bd3,Nxd3,Nxd3,axb3,a3,Qxd5,Qe3,Bg5,Qxg5,Bxd3+,Ka1', 'Rxa3+,bxa3,Qd4#', 'https://lichess.org/training/xh3zH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xh5iz', 'Classical', 'valars', 1694, 'jh000', 1710, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Nf6,d4,Qe7,dxe5,dxe5,b3,Ba6,Ba3,c5,c4,Rd8,Qe2,Qe6,Nc3,Be7,Nd5,Nxd5,exd5,Qf6,O-O,O-O,Qxe5,Qxe5,Nxe5,Bd6,Nc6,Ra8,Rfe1,Bc8,Ne7+,Kh8,Rad1,Bd7,Rd2,Rfe8,Rde2,a5,Nf5', 'Rxe2,Rxe2,Bxf5', 'https://lichess.org/training/Xh5iz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XH7to', 'Classical', 'pk777', 1879, 'Henb1', 1687, 'e4,c5,Nc3,d6,Bc4,Nf6,f4,Nc6,Nf3,a6,d3,b5,Bb3,b4,Ne2,e6,O-O,Be7,Qe1,O-O,Ng5,Bd7,Qg3,Na5,e5,dxe5,fxe5,Ne8,Ne4,Qb6,Bh6,c4+,Kh1,cxb3,axb3,Kh8,Nf6,Bxf6,Be3,Qc7,exf6,Qxg3,Nxg3,Nc6,fxg7+,Kxg7,Bc5,Rg8,Ne4,Kh8,Rf3,f5,Nd6,Nxd6,Bxd6,h5,Rh3,Rg5,Bf4,Rg4,Rxh5+,Kg7,Bd6,a5,h3,Rd4,Bc5,Rf4,Be3,Be8', 'Rg5+,Kf6,Bxf4', 'https://lichess.org/training/XH7to');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XH8I5', 'Rapid', 'leiso', 2150, 'KENET1', 1896, 'e4,e5,Bc4,Nc6,Bxf7+,Kxf7,Nf3,Nf6,d3,Bc5,c3,d6,Nbd2,Bg4,Qb3+,Be6,Ng5+,Kg6,Nxe6,Qe7,f4,Bb6,f5+,Kh5,Qd1+,Ng4,h3', 'Qh4+,g3,Qxg3+,Kf1,Qf2#', 'https://lichess.org/training/XH8I5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xh8oM', 'Classical', 'abdoessam311', 1652, 'stefvoss', 1698, 'e4,c5,Nf3,Nc6,d4,e6,d5,exd5,exd5,Nce7,d6,Nf5,Qe2+,Nge7,dxe7,Bxe7,Qe5,d6,Qc3,O-O,Bd3,Re8,O-O,Bf6,Qb3,Ne7,Nc3,b6,Nd5,Nxd5,Qxd5,Be6,Qh5,g6,Qh6,Bg7,Qg5,f6,Qd2,c4,Be4,d5,Bxg6,hxg6,Nd4,Qd7,Nxe6,Rxe6,Qb4,a5,Qc3,f5,Qh3,Rae8,c3,Re2,Rb1,Qe7,Be3,d4,cxd4,Qb4,b3,c3,Qg3,Kf7,Qf3,Rxa2,g4,c2,Rbc1,Qxb3,gxf5,Bxd4,fxg6+,Kg8,Qf7+,Qxf7,gxf7+,Kxf7,Bxd4,b5,f4,Rd8,Be5,b4,Rf3,a4,Kg2,Rd2+,Rf2,Rxf2+,Kxf2,b3,Ke2,b2,Bxb2,Rxb2,Kd2,a3,Rxc2', 'a2,Rxb2,a1=Q', 'https://lichess.org/training/Xh8oM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xH9gM', 'Rapid', 'BcVcB', 1804, 'adriaan124', 1806, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,Bb5+,Nc6,dxc5,Bxc5,Nc3,Nf6,Qe2+,Be6,Ne5,Qc7,O-O,a6,Ba4,b5,Nxc6,Qxc6,Bb3,O-O,Bg5,Bg4,Qe5,Rae8,Qf4,Re6,Bxf6,Rxf6,Qxg4,d4,Ne4,Rg6,Qf5,Bb6,Rfe1,a5,Ng5,Qb7,Qxb5,h6,Nf3,Qxf3,g3', 'd3,Qxb6,Rxb6', 'https://lichess.org/training/xH9gM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xHaIB', 'Classical', 'greenssaveplanet', 1654, 'Overvibe', 2016, 'd4,Nf6,c4,c6,Nc3,d5,e3,a6,Qc2,e6,Nf3,c5,a3,cxd4,cxd5,dxc3,bxc3,Qxd5,Bd3,Nc6,O-O,b5,Rd1,Bc5,Bxb5,Qe4', 'Qxe4,Nxe4,Bxc6+', 'https://lichess.org/training/xHaIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XHAZL', 'Classical', 'thuram', 1601, 'gernsei', 1629, 'd4,d5,c4,dxc4,e4,b5,a4,c6,Nf3,Bb7,axb5,cxb5,Nc3,a6,d5,Nd7,Be2,Ndf6,h3,e6,Bg5,h6,Bh4,g5,Bg3,exd5,exd5,Nxd5,Nxd5,Bxd5,Be5,f6,Bc3,Bg7,O-O,Ne7,Re1,O-O,Nd4,Re8,Qc2,Bf7,Nf5,Bg6', 'Nxe7+,Rxe7,Qxg6', 'https://lichess.org/training/XHAZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XHBNL', 'Rapid', 'tirald', 1681, 'emre25', 1687, 'e4,e5,g3,d6,Bg2,Nf6,c3,Nc6,Ne2,Bd7,d4,exd4,cxd4,Be7,O-O,O-O,f3,a6,Be3,Re8,Nbc3,b5,a3,h6,d5,Ne5,Bf2,Nc4,Qc2,c5,dxc6,Bxc6,Nd4,Rc8,Nxc6,Rxc6,b3,Ne5,Qd2,Qc8,Rac1,Rd8,Ne2,Qe6,Nd4,Nxf3+,Bxf3,Rxc1,Nxe6,Rxf1+,Kxf1,fxe6,Bb6,Rf8,b4,Nxe4,Qe3', 'Rxf3+,Qxf3,Nd2+,Ke2,Nxf3', 'https://lichess.org/training/XHBNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XhCCm', 'Rapid', 'theo', 1819, 'CASL', 1894, 'd4,d5,e3,Nc6,Nf3,Bg4,Nbd2,e5,dxe5,Nxe5,Be2,Bxf3,Bxf3,Nf6,a3,Bc5,b4,Bb6,Bb2,Nxf3+,Nxf3,c6,O-O,O-O,Bd4,Ne4,Qd3,Bxd4,Qxd4,Qf6,Qd3,a5,bxa5,Rxa5,c4,Qc3,Qe2,dxc4,Rfc1,Qd3,Qe1,Rxa3,Rxa3,Qxa3,Rxc4,f5,h3,c5,Qd1,b5,Rc1,Qb2,Rb1,Qxf2+,Kh1,Nc3', 'Qb3+,c4,Qxc3', 'https://lichess.org/training/XhCCm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xhcDw', 'Blitz', 'CM RobertoRochaMAO', 2230, 'Moderalist', 2021, 'e4,Nf6,Nc3,d5,e5,Ne4,Nxe4,dxe4,d4,exd3,Qxd3,Qxd3,Bxd3,Nc6,f4,Nb4,Be4,f5,exf6,exf6,a3,Nc6,Bxc6+,bxc6,Nf3,Ba6,Bd2,Kd7,Kf2,Bd6,Rhd1,Rae8,Be3,Re4,Rd2,Rhe8,Re1,Kc8,g3,h6,b4,Kb7,Rd4,g5,Rxe4,Rxe4,fxg5,hxg5,Nd2,Re5,c4,Re7,h3,Be5,Bc5', 'Bxg3+,Kxg3,Rxe1', 'https://lichess.org/training/xhcDw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xHcla', 'Rapid', 'samojede', 1630, 'kwidzynmaster', 1615, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,d6,Bb5,Bd7,O-O,Be7,d5,exd5,exd5,Ne5,Nc3,Nf6,Nxe5,dxe5,d6,Bxb5,Nxb5,Bf8,Re1,e4,Bg5,Kd7,Bxf6,Qxf6,Qg4+,Qe6,Qf4,f5,Nc7,Bxd6,Nxe6,Bxf4,Nxf4,Rad8,Rad1+,Kc6,Rxd8,Rxd8,f3,exf3,gxf3,Rd2,Re2,Rxe2,Nxe2,Kd5,Kf2,g5,Kg3,h5,Ng1,f4+,Kf2,Ke5,Ne2,g4,fxg4,hxg4,b3,Ke4,Ng1,f3,a3,a5,a4,Kd3,Kg3,Kc3,Kf2,Kxb3,Nxf3,gxf3', 'h4,Kxa4,h5', 'https://lichess.org/training/xHcla');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XhDfi', 'Rapid', 'paramirez', 1748, 'bobypresly', 1795, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,b3,cxd4,cxd4,Nge7,Nc3,a6,Bg5,Qc7,g3,Nf5,Bg2,Bb4,Qd3,O-O,O-O,Rac8,Rac1,Qb6,Na4,Qa7,Nc5,Bxc5,Rxc5,Nb4,Qd2,Rxc5,dxc5,Qxc5,Be3,Qe7,Nd4,Nxd4,Bxd4,Nc6,Bb2,Qb4,Qxb4,Nxb4,Ba3,a5,Rc1,Rc8,Rxc8+,Bxc8,Bf1,Nxa2,Bb5,Nc3,Bd3,b5,Kf1,b4,Bb2,d4,Ke1,Kf8,Kd2,h6,Bc4,Ke7,Kd3,Bb7,Kxd4,Kd7,Bxc3,bxc3,Kxc3,Kc6,Be2,Kc5,f4,Bd5,h4,Be4,Bh5,g6,Be2,h5,g4,hxg4,Bxg4,Bf5,Bf3,Kb5,Bb7,Kc5,Bc8,Kc6,Kc4,Bc2,Ba6,Kb6,Bb5', 'Bxb3+,Kxb3,Kxb5', 'https://lichess.org/training/XhDfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xHeJd', 'Classical', 'PeonLento', 1838, 'Arnlemeilleur', 1888, 'd4,Nf6,c4,c6,Nc3,d5,e3,Bf5,Nf3,e6,a3,c5,Nh4,Be4,Nxe4,Nxe4,Nf3,cxd4,exd4,Nc6,c5,e5,Bb5', 'Qa5+,b4,Qxb5', 'https://lichess.org/training/xHeJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xheZv', 'Rapid', 'virgintiger', 1609, 'Talgatik', 1618, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Nc3,a6,Bd3,Nd7,Bxf5,exf5,O-O,Be7,Ne2,Qc7,Ng3,g6,Bf4,Qb6,b3,O-O-O,Ng5,Bxg5,Bxg5,Re8,a4,h6,Be3,Ne7,Ne2,g5,a5,Qc7,Nc3,f4,Bd2,Nf5,Be1,h5,Na4,g4,g3,fxg3,fxg3,Ne3,Nb6+,Nxb6,axb6,Qxb6,Qe2,Nxf1,Qxf1,Qxd4+,Bf2,Qxe5,Re1,Qg7,Rd1,Re4,Qd3,Qg5,Qc3,Rg8,b4,Kb8,b5,axb5,Qa5,Qd8,Qa7+,Kc7', 'Bb6+,Kd6,Bxd8', 'https://lichess.org/training/xheZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xHfNB', 'Rapid', 'RJiancarlo', 1608, 'LanceAndreiLao', 1712, 'd4,d5,c4,c6,Nc3,Bf5,cxd5,cxd5,Bf4,Nf6,f3,Nc6,g4,Bg6,h4,h5,gxh5,Nxh5,Bh2,Nf6,Bg3,Nh5,Bf2,Nf6,e3,e6,Bd3,Bxd3,Qxd3,Nb4,Qe2,Qd7,a3,Nc6,O-O-O,O-O-O,e4,dxe4,Nxe4,Nxe4,Qxe4,f5,Qf4,g6,Ne2', 'Bh6,Qxh6,Rxh6', 'https://lichess.org/training/xHfNB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XHg9d', 'Blitz', 'LuxMinu', 1749, 'Blincoss', 1743, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Nf3,Be7,Bg5,O-O,e3,c6,Bd3,Bg4,O-O,Nbd7,h3,Bxf3,Qxf3,h6,Bh4,Qc7,Rfe1,Rac8,a3,Rfd8,Rac1,Qb6,b4,Bd6,Na4,Qc7,b5,Bxa3,Rc2,Qa5,Nc3,cxb5,Nxd5,Rxc2,Nxf6+,Nxf6,Ra1,Rc1+,Rxc1,Bxc1,e4,Rxd4,Bxf6,Qe1+,Kh2,gxf6,Qg4+,Kf8,Qc8+,Ke7,Qc7+,Rd7,Qc5+,Ke8,Bxb5,Bf4+,g3,Bd6', 'Qc8+,Ke7,Qxd7+,Kf8,Qxd6+', 'https://lichess.org/training/XHg9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xhGfa', 'Rapid', 'Megalodon_P', 1954, 'elimparablej', 1949, 'd4,d5,Bf4,e6,e3,Nf6,Nf3,Bd6,Bg3,O-O,Nbd2,b6,Bd3,c5,c3,Nc6,O-O,Bb7,Ne5,Qc7,f4,cxd4,exd4,Nd7,Qh5,f5,Ndf3,Ncxe5,fxe5,Be7,Bf4,g6,Qh6,Rf7,Bg5,Bf8,Qh4,Bg7,Bh6,Rc8,Ng5,Qd8,Bxg7,Rxg7,Qh6,Qe7,Bb5,a6,Bxd7,Qxd7,Rf2,Rf8,Raf1,Bc6,Rf4,Bb5,R1f2,Qe7,g4,Bc4,Kh1,Kh8,gxf5,Rxf5,Rxf5,exf5,b3,Bd3,e6,Qa3,Nf7+,Kg8,Qg5,Be4+,Kg1,Qf8,Qf6,Qc8,e7', 'Rxf7,Qd6,Qe8', 'https://lichess.org/training/xhGfa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xhhbC', 'Rapid', 'java66', 1816, 'uloose', 1847, 'e4,e5,Bc4,Nf6,Nc3,Nc6,Nf3,Bc5,Ng5,O-O,d3,h6,Nf3,d6,h3,a6,Bd2,Be6,Bb3,b5,a3,Na5,Ba2,Bxa2,Nxa2,Nc6,Qc1,Kh7,Nc3,Ne7,Nh4,Nh5,Nd5,Nxd5,Nf5,Nhf4,exd5,Nxg2+,Kf1,Nf4,Rg1,Qf6,Bxf4,Qxf5,Bg3,Qxh3+,Ke1,Qf5,b4,Bb6,Rh1,Rae8,Qd2,e4,Bf4,exd3+,Kd1,dxc2+,Kc1,Re4,Bxh6,Kg8,Bxg7,Rfe8', 'Rh8+,Kxg7,Qh6#', 'https://lichess.org/training/xhhbC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xHHcO', 'Rapid', 'Autospace', 1906, 'santavital', 1937, 'e4,c6,d4,d5,Nc3,Nf6,e5,Nfd7,Nf3,e6,Bd3,c5,Bf4,Nc6,Bb5,cxd4,Bxc6,dxc3,Bxd7+,Bxd7,bxc3,Rc8,Bd2,Bc5,Nd4,Qc7,Qg4,Qxe5+,Be3,O-O,O-O,Qf6,Rab1,Bb6,Rb3,Rfd8,Bg5,Qg6,Qh4,f6,Be3,e5,Nf3,Bxe3,fxe3,b6,Qf2,Ba4,Ra3,b5,Nh4,Qf7,Nf5,Rc4,Qg3,Bxc2', 'Nh6+,Kf8,Nxf7', 'https://lichess.org/training/xHHcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xHhGO', 'Rapid', 'walterwhite888', 1780, 'iguiii', 1722, 'd4,d5,c4,c6,Nc3,Bg4,Nf3,e6,Bg5,Be7,Bf4,Nf6,e3,Nbd7,Be2,Bb4,O-O,Nb6,cxd5,exd5,Bg5,h6,Bh4,g5,Bg3,Bd6,Ne5,Bxe2,Qxe2,Bxe5,Bxe5,Qe7,e4,Nbd7,exd5,Nxe5,dxe5,Nxd5,Rfe1,O-O-O,Nxd5,Rxd5,Qg4+,Kb8,Qf5,Re8,Rad1,Rxd1,Rxd1,Qxe5', 'Rd8+,Rxd8,Qxe5+', 'https://lichess.org/training/xHhGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XhIEp', 'Rapid', 'AhBeg', 1988, 'jviana', 1968, 'g3,Nf6,Bg2,d5,e3,c5,c4,dxc4,Qa4+,Nc6,Qxc4,e6,Nc3,Be7,Qb5,Qb6,Bxc6+,Qxc6,Qxc6+,bxc6,Nge2,Ba6,O-O,Nd5,Re1,O-O,Nxd5,cxd5,d4,c4,Bd2,h5,b3,Rac8,Nf4,c3,Bc1,h4,Kg2,c2,a3,Rb8,b4,Bc4,Ne2,a5,bxa5,Rb1,Bd2,Rxa1,Rxa1,Bxe2,Rc1,Bd3,Bb4,hxg3,Bxe7,Rb8,Bb4,gxh2,Kxh2,g5,Kg3,Kg7,f4,gxf4+,exf4,Kg6,Kf2,Kf5,Ke3,Be4,Rg1,Rg8,Rc1,Rg3+,Kd2,Kxf4', 'Bd6+,e5,Bxe5+,Kg4,Bxg3', 'https://lichess.org/training/XhIEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XhJdS', 'Blitz', 'Catur_Pos_Ronda', 1610, 'a_gojayeva5', 1608, 'd4,h6,Bf4,e6,Nf3,Nf6,e3,Bd6,Bg3,O-O,Bd3,Bxg3,hxg3,d6,Nbd2,d5,Ne5,Nbd7,Qf3,b6,O-O-O,c5,Ng4,c4,Nxh6+,gxh6,Rxh6,cxd3,Rdh1,Kg7,Qf4,Rg8,Rh7+,Nxh7', 'Qh6+,Kh8,Qxh7#', 'https://lichess.org/training/XhJdS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xhkB1', 'Rapid', 'no_thankme', 1945, 'spiceykid21', 1844, 'd4,d5,c4,c5,cxd5,Qxd5,Nf3,cxd4,Nc3,Qd8,Nxd4,e5,Nf3,Qxd1+,Nxd1,Nc6,e3,Bf5,Bb5,O-O-O,Bxc6,bxc6,Nxe5,Be4,Nxf7,Bb4+,Ke2', 'Bd3+,Kf3,Rf8,Kg3,Rxf7', 'https://lichess.org/training/xhkB1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XhKy6', 'Blitz', 'smiralex93', 2001, 'zluria', 2085, 'e4,c5,f4,d5,Nf3,dxe4,Ng5,Nf6,Bc4,e6,Nc3,Qd4,Qe2,a6,Ncxe4,Nxe4,Qxe4,Qxe4+,Nxe4,b5,Be2,Bb7,Bf3,Be7,d3,O-O,Be3,Nd7,Nxc5,Nxc5,Bxc5,Bxf3,Bxe7,Bxg2,Rg1,Rfe8,Bf6,gxf6,Rxg2+,Kf8,Kd2,Ke7,Rg7,Rg8,Rxh7,Rg2+,Ke3,Rxc2,b3,Rg8,h4,Rg3+,Kd4,Rh2,Rc1,Rg4,Rc7+,Kd6,Rhxf7,Rxf4+,Ke3,Rfxh4', 'Rfd7+,Ke5,Rc5#', 'https://lichess.org/training/XhKy6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XHLRi', 'Bullet', 'JackFr', 1740, 'pocadilly', 1766, 'f4,d5,Nf3,Nc6,e3,e6,b3,Bd7,Bb2,Nf6,Bd3,Be7,O-O,O-O,Nc3,a6,e4,dxe4,Nxe4,Nxe4,Bxe4,Bf6,d4,Ne7,Ne5,c6,Qh5,g6,Qh3,Nf5,g4,Nd6,Bd3,Bg7,Rae1,Ne8,c4,c5,Qg2,Rb8,d5,exd5,f5,dxc4,fxg6,cxd3,gxh7+,Kxh7,Qh3+,Kg8,Nxf7,Rxf7,Rxf7,Kxf7,Qh5+,Kf8,Qxc5+,Kg8,Qd5+,Kh8,Qh5+,Kg8,Qg6,Bc6', 'Rxe8+,Qxe8,Qxg7#', 'https://lichess.org/training/XHLRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xHMqO', 'Rapid', 'saxenashobhit', 1765, 'Sachin89', 1771, 'e4,e5,f4,exf4,Nf3,d5,e5,Nc6,d4,Bf5,Bxf4,g5,Bxg5,f6,exf6,Qd6,Qe2+,Be4,Nc3,O-O-O,O-O-O,Nxf6,Nxe4,dxe4,Ne5,Nxe5,dxe5,Qxe5,Rxd8+,Kxd8,Qb5,Qxb5,Bxb5,Be7,Rd1+,Kc8,Be3,Kb8,Bd7,Nxd7,Rxd7,Bd6,h4,h6,g4,Kc8,Rg7,Rf8,a3,Bf4,Bxf4,Rxf4,Rg8+,Kd7,Kd2,Kd6,Ke3,Rf1,Kxe4,Rh1,h5,Re1+,Kd3,Ke7,Rg7+,Kf6,Rxc7,Kg5,Rxb7,Kxg4,Rxa7,Kxh5,Ra5+,Kg4,Ra4+,Kg3,Re4', 'Rxe4,Kxe4,h5,b4,h4', 'https://lichess.org/training/xHMqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XHO7h', 'Rapid', 'tgauchess', 1816, 'chucknor', 1789, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,Bf5,Bc4,e6,Qe2,Bg4,f3,exf3,Nxf3,Bxf3,Qxf3,Be7,d3,Nc6,Bg5,Nd4,Qxb7,Nxc2+,Kf1,Nxa1,Qc6+,Nd7,Bxe7,Kxe7,Nb5,Rc8,Ke2,Re8,Rxa1,Kf8,Rf1,Ne5', 'Qc5+,Kg8,Qxe5', 'https://lichess.org/training/XHO7h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XHOSc', 'Rapid', 'Gas13', 1741, 'peterka021', 1736, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,d3,Bf5,Bg5,e6,g4,Bxg4', 'Bxf6,Qxf6,Qxg4', 'https://lichess.org/training/XHOSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xHPIy', 'Classical', 'piot27', 1827, 'Biysk-chess', 1802, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Qc7,Be2,Nf6,Nc3,d6,Be3,Be7,Qd2,O-O,O-O,Nc6,Nc2,Ne5,b3,b6,f3,Bb7,Rac1,Rad8,Na4,Nfd7,Qd4,Nc5,Nc3,Bf6,Qd2,Bc6,Rfd1,Be7,b4,Ncd7,b5,axb5,cxb5,Bb7,Nd4,Nc5,Nc2,f5,exf5,Rxf5,a4,Bxf3,gxf3,Rxf3,Kh1,Qb7,Bxf3,Nxf3,Qg2,Rf8,Bxc5,dxc5,Rf1,Bg5,Rcd1,e5,Ne1,e4,Nxe4,Qxe4,Nxf3,Bf6,Qd2,Rd8,Qxd8+,Bxd8,Rxd8+,Kf7,Kg1,Qe3+,Rf2,Ke7,Rb8,c4,Kf1,Qc1+,Ne1,Qh6,Rc8', 'Qh3+,Ng2,Qxc8', 'https://lichess.org/training/xHPIy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xhqM5', 'Blitz', 'Ulince', 1537, 'grzechu69', 1581, 'e4,c5,Nc3,d6,f4,Nc6,Bc4,e6,Nf3,Nf6,O-O,Be7,e5,dxe5,fxe5,Nd7,Re1,O-O,d3,Nb6,Bb3,Na5,d4,Nxb3,axb3,cxd4,Nxd4,Nd5,Bd2,a6,Nxd5,exd5,Bc3,b5,Nc6,Qb6+,Nd4,Bb7,Ba5,Qa7,Kh1,Rac8,Nf5,Rfe8,Qg4,g6,Nxe7+,Rxe7,Bc3,Re6,Qg5,Kg7,Rf1,h6,Qf4,Bc6,Rxa6,Qe7,Rb6,g5,Qf5,Rc7,Rb8,Be8,b4,Rb7,Rxb7,Qxb7,h4,gxh4,Qg4+,Kf8,Bd2,Ke7,Bxh6,Rxh6,Qg7,Re6,Qg5+,Kd7,Qxh4,Kc6,Qg4,Bd7,Qf3,Rh6+,Kg1,Re6', 'Qc3+,Kb6,Qc5+,Ka6,Ra1#', 'https://lichess.org/training/xhqM5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XHrDr', 'Blitz', 'ansori_ua', 2250, 'bodya17', 2256, 'Nf3,Nf6,g3,e6,Bg2,d5,d3,Be7,O-O,O-O,Re1,c5,e4,dxe4,dxe4,Nc6,Qxd8,Rxd8,c3,b6,e5,Nd5,Nbd2,Bb7,Nc4,b5,Ne3,Na5,Nxd5,Bxd5,Be3,Nc4,Bc1,a5,b3,Nb6,Be3,a4,Rab1,axb3,axb3,Ra3,Red1,Rda8,c4,bxc4,bxc4,Nxc4,Bg5,f6,exf6,gxf6,Be3,Nxe3,fxe3,Rxe3,Kf2,Rc3,Rd2,c4,Rxd5,exd5,Nh4,Bc5+,Kf1,Rd3,Nf5,c3,Ke2,Rd2+,Kf3,Rf2+,Kg4,Rxg2,Rb7,h5+,Kh3,Re2,Nh6+,Kh8,Nf7+,Kg7,Ng5+,Kg6,Nf3,Raa2,Nh4+,Kg5', 'Rg7+,Kh6,Nf5#', 'https://lichess.org/training/XHrDr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xhU62', 'Rapid', 'raobeppe', 1876, 'Peter_li', 1784, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,g6,Bb5,Bd7,O-O,a6,Ba4,Bg7,Nxc6,bxc6,Ne2,Nf6,Ng3,O-O,c3,c5,Bc2,Bb5,Re1,Qc7,a4,Bc6,b3,h5,h4,Qd7,Bg5,Qc7,c4,Ng4,Rb1,Rfe8,f3,Nf6,Bf4,e5,Be3,Qe7,Bg5,Qb7,Ne2,d5,cxd5,Bd7,Bd3,Rad8,Qc2,Rc8,Qc4,a5,Nc3,Rf8,Nb5,Ne8,Be7', 'Bxb5,Qxb5,Qxe7', 'https://lichess.org/training/xhU62');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xHW6E', 'Blitz', 'Oliver_Gallo', 1543, 'taylorSwizzle', 1501, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Be7,Bb5+,c6,Be2,O-O,O-O,Re8,h3,Bf5,Nh2,Nbd7,Bg5,Qc7,Bh4,Bd6,Bg3,Bg6,Bxd6,Qxd6,Ng4,Re7,Ne5,Nxe5,dxe5,Qxe5,Re1,Rae8,Qd2,Ne4,Nxe4,Qxe4,Bf3,Qxe1+,Rxe1,Rxe1+,Kh2,R1e7,Qa5,b6,Qc3,c5,b4,d4,Qc4,cxb4,Qxb4,Bxc2,Qxd4,Be4,Bd1,Bb1,Bb3,Bf5,Qf4,Be6,f3,Bxb3,axb3,Re3,b4,R3e7,b5,Re5,Qa4,R5e7,Kg3,h6,h4,Rd7,Qg4,Rd5,Qc4,Rde5,Qa4,R5e7,Qc4,Rd7,Kg4,Red8,f4,Rd4,Qc7,R4d7,Qc3,Rd5,g3,Rxb5,Qc7,Rbd5,Qxa7,b5,f5,Rd4+,Kh5,b4,g4,Rd3,g5,hxg5,Kxg5,b3,f6,gxf6+,Kxf6,b2,Qg1+,Kf8', 'Qg7+,Ke8,Qxf7#', 'https://lichess.org/training/xHW6E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xhWvQ', 'Rapid', 'Dark_abdelhadi', 1847, 'Tolya-123', 1760, 'd4,g6,c4,Bg7,Nc3,c6,Nf3,e6,e4,Ne7,Be2,O-O,h4,d5,e5,f6,h5,Kf7,hxg6+,hxg6,exf6,Bxf6,Rh7+,Ke8,Bg5,Rf7,Rh1,Nf5,Qd2,Nxd4,Bxf6,Nxf3+,gxf3,Qxf6,O-O-O,Nd7,cxd5,cxd5,f4,Qxf4,Nb5,Qxd2+,Rxd2,Nf8,Nd6+,Ke7,Nxf7,Kxf7,f4,a6,Bd3,Bd7,Rdh2,Bb5,Bb1,Bc6,Rh4,Rc8,Kd2,Bb5,b3,a5,a4,Ba6,Bd3,Bxd3,Kxd3,Rc5,Kd4,Rc2,R4h2,Rc6,Rg1,b6,Rgg2,Nd7,Rh7+,Ke8,Rxg6', 'e5+,Kxd5,Rxg6', 'https://lichess.org/training/xhWvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xHWvy', 'Classical', 'istvan55', 1764, 'mzolfi', 1786, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Be3,Qb6,b3,cxd4,cxd4,Bb4+,Nd2,Bc3,Rc1,Bxd4,Bxd4,Qxd4,Ngf3,Qf4,Bb5,Bd7,Bxc6,Bxc6,O-O,Nh6,h3,O-O,Re1,d4,Rc4,Rad8,Rc1,f6,exf6,Rxf6,a4,Nf7,Qe2,e5,Ne4,Re6,Rcd1,Nd6,Nxd6,Rdxd6,Nxe5,Qf5,Qg4', 'Rxe5,Rxe5,Qxe5', 'https://lichess.org/training/xHWvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xHXYu', 'Classical', 'champ11', 1871, 'AayushMunet1234', 1625, 'e4,e5,Nf3,Bc5,Bc4,Nc6,d3,h6,c3,Qf6,Be3,Bxe3,fxe3,Qg6,Qe2,d6,Nbd2,Na5,Bb5+,c6,Ba4,b5,Bc2,c5,d4,cxd4,exd4,a6,dxe5,dxe5,Nxe5,Qe6,Nef3,Nf6,Nd4,Qe5,N2f3,Qe7,e5,Nd5,Be4,Bb7,Bxd5,Bxd5,b3,O-O,O-O,Rae8,Rae1,Nc6,Nxc6,Bxc6,Nd4,Bd5,Qd3,Qg5,Qe2,f6,Rf5,Qg6,Qf2,Re7,exf6', 'Rxe1+,Qxe1,Qxg2#', 'https://lichess.org/training/xHXYu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XHZhK', 'Blitz', 'Peter1909', 1632, 'llu80', 1627, 'c4,e6,b3,d5,cxd5,exd5,Bb2,Nf6,g3,Be7,Bg2,O-O,e3,Be6,Ne2,Re8,Nd4,Bg4,Nf3,c6,O-O,Nbd7,d4,Nf8,Nbd2,Ng6,Qc2,Qd7,Ne5,Nxe5,dxe5,Ne4,Nxe4,dxe4,f4,Bh3,Rad1,Qc8,Qxe4,Bxg2,Kxg2,Qe6,Rd2,b6,Rfd1,c5,Rd7,h5,Qb7,h4,f5,Qh6,Rxe7,h3+,Kh1,Rxe7,Qxe7', 'Qc6+,e4,Qxe4+,Kg1,Qg2#', 'https://lichess.org/training/XHZhK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xi1dc', 'Classical', 'Bergini64', 1776, 'thebuckers', 1604, 'd4,Nf6,c4,g6,Nf3,d6,g3,Bf5,d5,c6,Nd4,Bd7,Bg2,cxd5,cxd5,Nxd5,Bxd5,Qa5+,Bd2,Qxd5,Nf3,Bg4,Nc3,Qc6,O-O,Bg7,Rc1,Qd7,b4,O-O,b5,a6,Qa4,Rc8,Nd5,Rxc1,Rxc1,Qxb5,Qxg4,Qxd5,Qc8+,Bf8,Rc7,Qe6,Qxb7,Qxe2,Qxa8,Qb5,Rc8,Nd7,Nd4,Qb1+,Kg2,Kg7,Bc3,Nb6,Ne6+,Kh6,Bd2+,g5,Bxg5+,Kg6,Qb8,Qe4+,f3,Qe2+,Kh3,Qxe6+,Kh4,Nxc8,Qb1+,Kg7,Bd2,Qc4+,g4,Kg8,f4,Bh6,Qf5,e6,Qf6,Bf8,Bc3,e5,Be1,Qf1,Bg3,exf4,Qg5+,Bg7,Bxf4,Qf2+,Bg3,f6', 'Qd5+,Kf8,Bxf2', 'https://lichess.org/training/xi1dc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xi1hS', 'Blitz', 'IM Khusenkhojaev', 2538, 'Tanatov_2006', 2487, 'Nf3,e5,c4,e4,Nd4,Nf6,d3,exd3,Qxd3,Nc6,g3,Bc5,Nxc6,bxc6,Bg2,O-O,O-O,d6,Nc3,Re8,Bg5,Bd7,Ne4,Bf5,Bxf6,Bxe4,Bxe4,Qxf6,Bxc6,h5,Bxa8,Rxa8,Qf3,Qd8,Qxh5,Rb8,b3,Qf6,Rad1,g6,Qf3,Qb2,Rd3,Re8,h4,Rxe2,h5,gxh5,Rd5,h4,Rg5+,Kf8,Rf5,hxg3,Rxf7+,Ke8,Rf8+,Kd7,Rf7+,Ke8,Rh7,gxf2+,Kg2,Re7,Qh5+,Kd8,Rxe7,Kxe7,Qg5+,Qf6,Qxf6+,Kxf6,Kf3,Ke5,Ke2,Ke4,Rh1,Kd4,Kxf2,Kc3+,Kf3,Kb2,Rh2+,Ka3,Ke4,Bg1,Rg2,Bb6,Kd5,a5,Kc6,Kb4,Rg7,a4,bxa4,Kxc4,Rxc7,Bxc7,Kxc7,d5,a5', 'Kb5,a6,Kxa6', 'https://lichess.org/training/xi1hS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xi3Ai', 'Rapid', 'sprey', 1791, 'fornoreason33', 1849, 'e4,e5,f4,Nc6,Nf3,exf4,Bc4,h6,d4,d6,Bxf4,Nf6,Nc3,Be7,e5,dxe5,Nxe5,Nxe5,Bxe5,O-O,O-O,Ng4,Qf3', 'Nxe5,dxe5,Qd4+,Kh1,Qxc4', 'https://lichess.org/training/Xi3Ai');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xi5KY', 'Rapid', 'PIJAMASAMURAI', 1767, 'kreyons', 1841, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qa5,Nf3,Bf5,a3,e6,d4,Nf6,b4', 'Bxb4,axb4,Qxa1', 'https://lichess.org/training/xi5KY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xi5Nz', 'Rapid', 'Danel_R_Olivaw', 1811, 'Bondamooku', 1828, 'd4,b6,e4,Bb7,Nc3,e6,Nf3,h6,Be3,Nf6,Qd3,Ba6,Qd2,Bxf1,Rxf1,Ng4,O-O-O,Nxe3,Qxe3,Nc6,d5,Bc5,Qe2,Nb4,dxe6,fxe6,Ne5,O-O,Rxd7', 'Qg5+,Kb1,Qxe5', 'https://lichess.org/training/Xi5Nz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XI5wD', 'Rapid', 'ilhamigoktug', 1716, 'LawyerBrazil', 1718, 'd4,c5,Bf4,cxd4,Qxd4,Nc6,Qa4,Nf6,e3,e5,Bg3,Qb6,Nc3', 'Qxb2,Rb1,Qxc3+', 'https://lichess.org/training/XI5wD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xI6xR', 'Blitz', 'Blasfemo', 2294, 'pacherock', 2444, 'e4,c5,Nc3,d6,d3,Nf6,f4,g6,Nf3,Nc6,Be2,Bg7,O-O,O-O,Kh1,Rb8,Ng5,b5,Rb1,Nd4,Be3,b4,Na4,Nxe2,Qxe2,h6,Nf3,Ba6,b3,Qd7,Bg1,e6,e5,Nd5,exd6,Nxf4,Qd2,g5,Nxc5,Qxd6,Nxa6,Qxa6,g3,Nh3,Bd4,e5,Bxe5,Qc6,Bxg7,Kxg7,Qg2,g4,Nh4,Qxg2+,Kxg2,Rbc8,Rbc1,Rc5,Nf5+,Kg6,Ne3,Rfc8,Nc4,Rb8,Rce1,Ng5,Ne5+,Kg7,Nc4,Nf3,Re7,a5,h3,h5,hxg4,hxg4,Rh1,Kf6,Ra7,Re8,Rh6+,Kg7,Rb6,Re2+,Kf1,Rxc2,Rbb7,Rf5,Nd6', 'Nh2+,Ke1,Rf1#', 'https://lichess.org/training/xI6xR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xI7Ho', 'Classical', 'andreaberghem', 1895, 'Katerina1965', 1775, 'e4,e6,Nf3,d5,Bd3,dxe4,Bxe4,Nf6,Nc3,Be7,d4,O-O,O-O,a6,a3,Re8,Re1,c6,b4,Nbd7,Qd3,Nxe4,Qxe4,Nf6,Qd3,Qc7,Ne5,Bd7,Qg3,Rad8,Bh6,Bf8,Bg5,Be7,Bxf6,Bxf6,Ne4,Bxe5,dxe5,f5,Nf6+,Kh8,Nxe8,Bxe8,Rad1,h6,Qb3,Rxd1,Rxd1,Qxe5,g3,Bh5,Rd8+,Kh7,Qe3,Qa1+,Kg2,Qa2,Qc3,f4,gxf4,Qb1,Rd7,Bf3+,Kxf3,Qh1+,Ke2,Qe4+,Kd1,Qh1+,Qe1,Qf3+,Kc1,Qxa3+,Kd2,Qxb4+,Ke2,Qxf4,Qc3,e5,Qd3+,e4,Qe3', 'Qg4+,Ke1,Qxd7', 'https://lichess.org/training/xI7Ho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xI8m7', 'Rapid', 'arsenalfanrichi', 2011, 'thomas94033', 1802, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Bf5,Nf3,Nc6,Bd2,O-O-O,d5,Nb4,Nd4,Bg6,Bc4,e5,Nf3,Nxc2+,Ke2,Nxa1,Qxa1,Nf6,Nb5,Qb6,Be3,Bc5,a4,a5,b4,Bxe3,fxe3,Nxd5,Qxe5,Qxe3+,Qxe3,Nxe3,Kxe3,Rhe8+,Kf2,axb4,Nbd4,c5,Nb3,b6,Bb5,Re7,a5,Kc7,Rc1,bxa5,Nxc5,Kb6,Be2,Rde8,Na4+,Ka7,Nd4,Be4,Rc5,Re5,Rc7+,Kb8,Rxf7,Ba8,Bf3,Bxf3,gxf3,R5e7,Nc6+,Kb7,Nxe7,Ka6,Nd5,Kb5,Nb2,a4,Rb7+,Kc6,Rxb4,Kxd5,Rxa4,Rb8,Nd3,Rb3,Nf4+,Ke5,Kg3,g5,Ne2,Rb2,Re4+,Kf5,h3,h5,Nd4+,Kg6,Re6+,Kf7,Re5,Kg6,Rb5', 'h4+,Kg4,Rg2#', 'https://lichess.org/training/xI8m7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XIaKh', 'Rapid', 'Rizzavich', 1907, 'ENO_CK', 1975, 'e4,b6,Bc4,Bb7,d3,e6,Nf3,d5,exd5,exd5,Bb5+,Nd7,Nd4,Nf6,Nc6,Bxc6,Bxc6,Rb8,O-O,Be7,Bg5,O-O,Re1,Bd6,Bxd5,Ne5,d4,Neg4,h3', 'Bh2+,Kf1,Qxd5', 'https://lichess.org/training/XIaKh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xiAp4', 'Rapid', 'victor1324', 1813, 'JamesTiberiusStone', 1858, 'e4,c5,Nf3,Nc6,Bc4,e6,a3,d6,d3,Nf6,Be3,Be7,Nc3,O-O,O-O,Ng4,Bd2,d5,exd5,exd5,Bxd5,Nd4,Nxd4', 'cxd4,Bf3,dxc3', 'https://lichess.org/training/xiAp4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xiCMm', 'Classical', 'Boozey', 1666, 'Loaktar', 1627, 'e4,e6,d4,b6,c4,Bb7,Nc3,Bb4,Bd2,c5,a3,Bxc3,Bxc3,cxd4,Qxd4,Bc6,g3,f6,Bg2,e5,Qd6,Ne7,Nf3,Na6,O-O,Nc5,Rad1,Nxe4,Qd3,O-O,Nh4,Re8', 'Bxe4,Bxe4,Qxe4', 'https://lichess.org/training/xiCMm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XICT1', 'Rapid', 'Swisstoni', 1852, 'K_V_Subrahmanyam', 1964, 'd4,e6,Bf4,f5,e3,Nf6,Bd3,d5,Nf3,Nbd7,h3,Be7,O-O,O-O,Nbd2,Ne4,Rc1,Kh8,c4,c6,cxd5,exd5,Ne5,Nxe5,Bxe5,Bd6,Nf3,Be6,Bxd6,Qxd6,Ne5,Qe7,Qh5,Rf6,Qh4,Kg8,f3,Nd6,g4,Raf8,g5,Rh6,Qg3,Rh5,f4,Ne4,Bxe4,fxe4,Ng4,Bxg4,Qxg4,g6,Kg2,Qf7,Kg3,Qf5,h4,h6,Qxf5,gxf5,Rh1,hxg5,hxg5,Rxh1,Rxh1,Kg7,Rh6,Rh8,Rxh8,Kxh8,Kh4,Kg7,Kh5,c5,dxc5', 'd4,exd4,e3', 'https://lichess.org/training/XICT1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xIdAc', 'Rapid', 'Gollajio', 1860, 'shyamall', 1686, 'f4,Nc6,d4,e6,Nf3,Qe7,a3,b6,e4,Bb7,Nc3,O-O-O,Be2,Kb8,O-O,Nf6,Bd3,h6,Qe2,d5,e5,Ne4,Ba6,Nxc3,bxc3,Na5,Bxb7,Kxb7,Nd2,g5,f5,exf5,Rxf5,Qe6,Qf1,Rh7,Rb1,Qc6,Qd3,g4,a4,h5,Rb5,Be7,Nb3,Nc4,Qxc4,dxc4', 'Na5+,Kc8,Nxc6', 'https://lichess.org/training/xIdAc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XiDBa', 'Rapid', 'RumenAngelov', 1721, 'M2008', 1696, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,d3,Bd6,h3,O-O,O-O,Be6,b3,Qd7,Bb2,Rfe8,Bxe5', 'Bxe5,Nxe5,Qd4,Nd2,Qxe5', 'https://lichess.org/training/XiDBa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XiDs8', 'Rapid', 'Unknown4u', 1961, 'vv1987', 2098, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Be7,Nxd4,Nxd4,Qxd4,Nf6,e5,c5,Qd1,Ne4,Qf3,f5,O-O,d5,Bb5+,Bd7,Bxd7+,Qxd7,Nd2,O-O,c4,Nxd2,Bxd2,d4,Rfe1,b6,e6,Qc8,Qd5,g6,Bh6,Rf6,Bg5,Qd8,Bxf6,Bxf6,e7+,Qxd5,e8=Q+,Rxe8,Rxe8+,Kf7,cxd5,Kxe8,Re1+,Kd7,Re6,Be7,Kf1,g5,Ke2,h5,f3,c4,h3,f4,b3', 'd3+,Kd1,c3', 'https://lichess.org/training/XiDs8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xie9D', 'Rapid', 'YagoPereira', 2219, 'Miel_Pops', 2219, 'e4,e6,d4,d5,Nd2,c5,Ngf3,Nc6,c3,Nf6,e5,Ne4,Be2,cxd4,cxd4,Bb4,O-O,Bxd2,Nxd2,Nxd2,Qxd2,Bd7,a3,Rc8,b4,Ne7,Bb2,O-O,Bd3,f5,exf6,Rxf6,Rfe1,Nf5,Re5,Rh6,Rae1,Qh4,h3,Rg6,Bxf5,exf5,Qd3,Rf8,R1e3,f4,Rf3,Bf5', 'Rxf5,Rxf5,Qxf5', 'https://lichess.org/training/xie9D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XieyL', 'Rapid', 'vidaurre', 1673, 'Sincerely_Seven', 1656, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,g4,g5,c3,d6,Bxf7+,Kxf7,h3,Kg6,h4,Bxg4,Qg2,Bh6,d3,Rf8,f3,Bh5,hxg5,Bxg5,Qxg5+,Kf7,Rxh5,Nxh5,Qxh5+,Kg8,Qg4+,Kh8,Bh6', 'Rg8,Qh3,Rxg1+', 'https://lichess.org/training/XieyL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xigC4', 'Rapid', 'rullll1', 1837, 'amirkaram', 1784, 'e4,e5,d4,exd4,c3,dxc3,Bc4,g6,Nxc3,Bg7,Nf3,Nf6,e5,Nh5,g4,d6,gxh5,O-O,h6,Bh8,exd6,Qxd6,Qxd6,cxd6,Nb5,Re8+,Be3,Na6,Nxd6,Bg4,Bxf7+,Kf8,Bxe8,Bxf3,Rg1,Rd8,Rg3,Bh5,Kf1,Rxd6,Bb5,Bd4,Rd1', 'Bxd1,Bxd4,Rxd4,Bxa6,bxa6', 'https://lichess.org/training/xigC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XIGO3', 'Bullet', 'TardisBishop', 1716, 'SSSOMRA', 1696, 'e4,b6,Nc3,Bb7,Nf3,Nc6,d4,e6,Be3,Nf6,d5,exd5,exd5,Ne7,Bc4,g6,O-O,Bg7,Bb3,O-O,a4,a5,Qd2,Nf5,Rfe1,Rc8,Rad1,c5,dxc6,Bxc6,Bg5,Qc7,Ne5,Ba8,Nxd7,Nxd7,Qxd7,Qxd7,Rxd7,Rc5,Be3,Re5,Kf1,h6,Bd2,Rxe1+,Bxe1,Re8,Rxf7,Kh7,Ra7,Bxg2+,Kxg2,Rxe1,Rb7,h5,Rxb6,Nh4+,Kg3,Nf5+,Kg2,Nh4+,Kg3,Nf5+,Kf4', 'Be5+,Kg5,Rg1#', 'https://lichess.org/training/XIGO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xiiho', 'Classical', 'Alexander18856', 1820, 'azussm', 1775, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Be3,Bd7,Qd2,cxd4,cxd4,Bb4,Nc3,Nge7,a3,Bxc3,bxc3,Na5,Qc2,Nc4,Bxc4,dxc4,O-O,Bc6', 'd5,Qb3,Qxb3,cxb3,dxc6', 'https://lichess.org/training/xiiho');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XIjPg', 'Rapid', 'hartonosantosa', 2243, 'Donotallright', 2087, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,Nf6,Re1,Be7,d4,O-O,d5,Nb8,Bd3,c6,c4,cxd5,exd5,Na6,Nc3,Nc5,Bc2,b6,b4,Na6,a3,Bg4,h3,Bh5,Bg5,Bg6,Bxf6,Bxc2,Bxe7,Bxd1,Bxd8,Bxf3,Bxb6,Bxg2,Bxa7,Bxh3,Be3,Rfc8,Nb5,Rxc4,Rac1,Rg4+,Kh2,Rh4,Kg3,Rh5,Rh1,f5,Rxh3,f4+,Bxf4,exf4+,Kg4,Rxd5,Nc7,Nxc7,Rxc7,Rd2,Rf3,Ra2,Rxf4,R2xa3,Rff7,Rc3', 'Rxg7+,Kh8,Rxh7+', 'https://lichess.org/training/XIjPg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XIkI6', 'Blitz', 'noah_sark', 1643, 'vid100', 1616, 'd4,d5,c4,dxc4,e4,e5,d5,Bd6,Nf3,Bg4,Nc3,Nd7,Bxc4,h6,a3,Ngf6,b4,O-O,Qd3,c5,Nb5,Nb6,h3,Bxf3,gxf3,Nxc4,Qxc4,a6,Nc3,b5,Qd3,c4,Qd2,Kh7,Rg1,Nh5,Ne2,a5,Ng3,Nf4,Nf5,Nd3+,Ke2,Rg8', 'Rxg7+,Rxg7,Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/XIkI6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xIkpi', 'Rapid', 'mateusz195', 2006, 'rigondo', 2101, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bd6,Bc4,O-O,O-O,Nd7,h3,Re8,b3,Nf8,Bb2,Ng6,Re1,Rxe1+,Qxe1,b5,Bd3,Be6,Qe4,Bd5,Qg4,Be6,Qe4,Bd5,Qg4,Nf4,Re1,Nxd3,cxd3,a5,Nh4,g6,f4,Qc8,f5,a4,Rf1,axb3,axb3,Ra2,Bc1,g5,Bxg5,fxg5,Qxg5+,Kh8,Qf6+,Kg8,Qxd6,Qe8,f6,Qe3+,Kh1,Qxh3+,Kg1', 'Rxg2+,Nxg2,Qxg2#', 'https://lichess.org/training/xIkpi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XILhh', 'Rapid', 'nathan45', 2056, 'andrii_1', 1938, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,O-O,Nc6,h3,Bd7,Be3,a6,a4,Qc7,Rc1,Rac8,Nd5,Nxd5,exd5,Nxd4,Bxd4,Bxd4,Qxd4,Qc4,Qxc4,Rxc4,Rfe1,Re8,b3,Rc3,Kf1,Kf8,Ke2,Rec8,Kd2,Bf5,Be4,Bxe4,Rxe4,b5,axb5,axb5,Re3,Rxe3,Kxe3,Rc5,Kd4,e6,dxe6,fxe6,c4,bxc4,bxc4,Ke7,Rb1,Kf6,Rb6,e5+,Kd3,Ke6,Rb5,Rc7,f4,exf4,gxf4,Rf7,Ke4,Rc7,Rb4', 'Rxc4+,Rxc4,d5+,Kd4,dxc4', 'https://lichess.org/training/XILhh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xiM1g', 'Rapid', 'tunnup', 1896, 'Waell1986', 1829, 'e4,e5,Nc3,Nc6,Nf3,Nf6,Bc4,Bc5,Ng5,O-O,O-O,d6,a3,a6,b4,Ba7,d3,Bg4,Qd2,h6,Nxf7,Rxf7,Bxf7+,Kxf7,h3,Be6,Kh1,Kg8,f4,exf4,Qxf4,Nd4,Bb2,Nxc2,Rab1,Qe7,Ne2,Rf8,Ng3,Nh5', 'Qxf8+,Qxf8,Rxf8+,Kxf8,Nxh5', 'https://lichess.org/training/xiM1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XiMDS', 'Rapid', 'gieronVV', 1739, 'FckUKQueen', 1711, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,Be7,Bg5,h6,Bh4,a6,e3,O-O,cxd5,exd5,Bd3,b6,Qc2,c5,dxc5,bxc5,O-O,Nc6,a3,Bg4,Nd2,Ne5,Bf5,d4,Bxg4,Nfxg4,Bxe7,Qxe7,exd4,cxd4,Nce4,d3,Qc3,Rfc8,Qa5,h5,Rfe1,h4,Nc3,Qa7,Nce4,f5,Qd5+,Kh8,h3,fxe4,hxg4,Nxg4,Qh5+,Nh6,Rxe4,Rc2,Re8+,Rxe8,Qxe8+,Ng8,Qh5+,Nh6,Qe8+,Kh7,Qe4+,Kh8,Qxd3,Rxb2,Rc1,Rb8,Nf3,Ng4,Rc2', 'Rb1+,Qf1,Rxf1+', 'https://lichess.org/training/XiMDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xInes', 'Blitz', 'cheche2', 2263, 'NM batradz', 2296, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Nf3,Bb4,Qb3,Nc6,c5,Ne4,a3,Qa5,Bd2,Nxd2,Nxd2', 'Nxd4,Qa4+,Qxa4', 'https://lichess.org/training/xInes');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xInua', 'Rapid', 'Ahmed_-Abd-Elbaky', 1662, 'leon_bilbao', 1664, 'd4,d5,Nc3,e6,e4,c5,exd5,exd5,dxc5,Bxc5,Nf3,Nf6,Bg5,Be6,Bxf6,Qxf6,Bb5+,Nd7,Bxd7+,Bxd7,Nxd5,Qe6+,Kf1,Bb5+,Kg1,O-O-O,a4,Bc6,c4,Bxd5,cxd5,Rxd5,Qc2,b6,g3,Kb7,Kg2,Rc8,Rhe1,Qd6,Qe4,Rc7,Red1,Rd7,Rxd5,Qxd5,Qxh7,g6,Qh3,f5,Qh6,Rd6,Qf4,a5,Kh3', 'g5,Qxg5,Qxf3', 'https://lichess.org/training/xInua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xiOcH', 'Rapid', 'aplantes', 1674, 'Victor1602', 1732, 'e4,d5,Nc3,dxe4,Nxe4,Qd7,d3,Qe6,Nf3,h6,g3,f5,Bf4,fxe4,dxe4,Qxe4+,Be2,Bg4,Qd3,Bxf3,Qxe4,Bxe4,O-O,c6,f3,Bxc2,a3,Nd7,Rac1,Bf5,Rfd1,O-O-O', 'Rxc6+,bxc6,Ba6#', 'https://lichess.org/training/xiOcH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xip8J', 'Rapid', 'Sinaliento21', 2151, 'gapadillaarevalo30', 1802, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d6,h3,c5,c3,cxd4,exd4,Bf5,Bd3,Bxd3,Qxd3,Nc6,O-O,O-O,Qe2,Qb6,Na3,d5,Rab1,Rac8,Qb5,Qxb5,Nxb5,Rfd8,a4,Ne4,Nd2,e5,Nxe4,exf4,Nc5,b6,Nd3,a6,Na3,g5,Rfe1,Re8,Nc2,Na5,Ncb4,Nc4,Nxd5,Nd2,Ne7+', 'Rxe7,Rxe7,Nxb1', 'https://lichess.org/training/Xip8J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xIpM3', 'Blitz', 'artedelamente', 2232, 'Adhemarlogan', 1817, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Bb6,d4,exd4,cxd4,d5,e5,Bd7,Nc3,Nge7,Bd3,Nxd4,Nxd4,Bxd4,Qe2,Nc6,Nxd5,O-O,Qe4,g6,Nf6+,Kg7,Bh6+,Kxh6', 'Qh4+,Kg7,Qxh7#', 'https://lichess.org/training/xIpM3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XiPwG', 'Rapid', 'Nox4o', 1924, 'Hordeboss', 2007, 'e4,c5,Nf3,d6,d3,e5,Be2,Nf6,h3,Be7,O-O,O-O,b3,b5,Nc3,b4,Nd5,Nxd5,exd5,Bb7,Bb2,Bxd5,c4,bxc3,Bxc3,Nc6,Nd2,Rc8,Nc4,Nd4,Bxd4,cxd4,Bf3,Be6,Be2,f5,f4,e4,dxe4,fxe4,Qxd4,Bf6,Qxe4,Bxa1', 'Qxe6+,Kh8,Rxa1', 'https://lichess.org/training/XiPwG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xIqcF', 'Classical', 'vanomako', 2068, 'DredRen', 2158, 'e4,e5,f4,d5,exd5,exf4,Qf3,Bd6,Bb5+,Nd7,Ne2,g5,d4,a6,Bxd7+,Bxd7,c4,Nh6,c5,Be7,Nbc3,Bg4,Qd3,Bf5,Qc4,Ng4,h3,Nf6,g4,Bg6,Qa4+,Kf8,Qb3,Rb8,Bd2,Ne4,Rf1,Nxd2,Kxd2,h5,Rae1,Kg7,Rh1,Bf6,Ref1,hxg4,hxg4,Rxh1,Rxh1,f3,Ng3,Bxd4,Qc4,Qf6,Nce4,Bxe4', 'Nh5+,Kf8,Nxf6', 'https://lichess.org/training/xIqcF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XIQI0', 'Blitz', 'slouuuurps', 2426, 'FM tuti2500', 2381, 'd4,Nf6,c4,c5,d5,d6,Nc3,g6,e4,Bg7,h3,O-O,Nf3,e6,Bd3,Re8,O-O,Na6,dxe6,Bxe6,Bf4,Qb6,Qd2,Rad8,Rad1,Nb4,Be2,a6,Rfe1,Nc6,Bd3,Qc7,Nd5,Bxd5,cxd5,Ne5,Nxe5,dxe5,Bg5,Qd6,a4,Rc8,Rc1,Nd7,a5,f6,Be3,Bf8,Rc2,Rc7,Rec1,Rec8,Bf1,Qe7,b4,Qd6,b5,axb5,Bxb5,Nb8,h4,Na6,g3,Nb4,Rc4,Qd8,h5,Bd6,Qe2,Qf8,Kg2,f5,exf5,gxf5,Bd2,e4,Bxb4,cxb4,Rxc7,Rxc7,Rxc7,Bxc7,g4,Qd6,gxf5', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/XIQI0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xIRxQ', 'Rapid', 'ZairAvendano10', 1794, 'luis2372', 1700, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Qf3,Qxf3,Nxf3,Nc6,d3,Bg4,Be2,e6,h3,Bh5,g4,Bg6,Be3,O-O-O,O-O-O,Bd6,h4,h6,h5,Bh7,g5,hxg5,Bxg5,f6,Bd2,Bg8,h6,gxh6,Bxh6', 'Rxh6,Rxh6,Bf4+,Kb1,Bxh6', 'https://lichess.org/training/xIRxQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xiS1Q', 'Rapid', 'wernier', 1854, 'vinc123', 1893, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,O-O,Bg4,Bxf7+,Kf8,Bxg8,Kxg8,Bg5', 'Bxf3,Qxf3,Qxg5', 'https://lichess.org/training/xiS1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XisoV', 'Blitz', 'zavior-2', 1808, 'OMGlob', 1831, 'd4,d5,Bf4,Nc6,e3,Bf5,Nf3,e6,Bd3,Bg4,Nbd2,a6,O-O,Nb4,Be2,Nf6,h3,Bh5,c4,Bd6,Bxd6,Qxd6,c5,Qe7,Qb3,a5,a3,Na6,Qxb7,O-O,Bxa6,Rxa6,Qxa6,Bxf3,Nxf3,Ne4,Qxa5,f5,Rfc1,f4,b4,fxe3,fxe3,Rxf3,Qa8+,Kf7,Rf1,Rf6,Rxf6+,gxf6,a4,f5,Rf1,Ng3,Rf3,Qg5,Kh2,Ne4,a5,Nd2,Rf2,Ne4,Rb2,Qg3+,Kg1,Qxe3+,Kh1,Nf2+,Kh2,Ne4,a6,Qg3+,Kg1,Ng5,a7', 'Nf3+,Kf1,Qe1#', 'https://lichess.org/training/XisoV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xit0V', 'Rapid', 'Lucifer247', 1773, 'Jzm14', 1774, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bc4,Qf6,O-O,d6,Nc3,Ne7,Ne2,Bg4,h3,h5,hxg4', 'hxg4,Nf4,Qh4,Nh3,gxh3', 'https://lichess.org/training/Xit0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XiuMG', 'Rapid', 'Romi10', 1659, 'ThiagoSpi', 1677, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,bxc6,d3,d5,Nxe5,dxe4,Nxc6,Qd6,Na5,Bg4,f3,exf3,gxf3,Bh5,Nc4,Qd5,Nbd2,Bb4,c3,Ba5,Qa4+,Ke7,Qxa5,Qxd3,Qxc7+,Nd7,Ne5,Qd5,Nc6+,Ke6,Ne4,Bxf3,Nd4+,Ke7,Nc6+,Ke8,Nd6+,Kf8,Rf1,Qe6+,Kf2,Qe2+,Kg3,Qg2+,Kf4,Qxf1,Ke3,Bxc6,Qxc6,Rd8,b3,Nf6,Ne8,Nxe8', 'Ba3+,Kg8,Rxf1', 'https://lichess.org/training/XiuMG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XiUwS', 'Blitz', 'IM LosXodos', 2434, 'mandarria', 2414, 'Nf3,c5,g3,Nc6,Bg2,g6,O-O,Bg7,d3,e6,Nbd2,Nge7,Rb1,O-O,a3,d6,b4,b6,b5,Na5,Nc4,Nxc4,dxc4,Bb7,Bg5,h6,Bf4,d5,Be5,dxc4,Bxg7,Kxg7,Ne5,Bxg2,Qxd8,Raxd8,Kxg2,Rd2,Rfc1,Rxe2,Nxc4,Re4,Ne3,Rd8,Ra1,Rd2,Kf3,Red4,a4,e5,Nf1,e4+,Kg2,Re2,a5,f5,axb6,axb6,Ra6,Nd5,c4,Nb4,Rxb6,Nd3,Ra1,Rxf2+,Kg1,Rd7,Raa6,Rxf1+,Kxf1,Ne5,Re6,Nxc4,Rxg6+,Kf7,Raf6+,Ke7,Rxf5', 'Ne3+,Ke2,Nxf5', 'https://lichess.org/training/XiUwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XiVbI', 'Rapid', 'Airbus2013', 2374, 'beygani', 2081, 'Nf3,Nf6,c4,c5,e3,e6,d4,cxd4,exd4,d5,Nc3,Nc6,Bf4,Bb4,c5,Ne4,Qc2,Qf6,Be5,Nxe5,dxe5,Qf4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/XiVbI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XIvhy', 'Blitz', 'SamuelMalakar', 1618, 'bobidgo70', 1625, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,Ng5,O-O,O-O,a6,d3,d6,Nxf7,Rxf7,Bxf7+,Kxf7,Bg5,Bg4,Qd2,Nd4,h3,Bh5,g4,Bg6,Rac1,c6,Qe3,Nxc2,Qf3,Nd4,Qg3,b5,Rfe1,Bb6,b4,Qd7,Be3,h5,Bxd4,Bxd4,Qf3,Kg8,g5,Nh7,Kh2,Rf8,Qd1,Rxf2+,Kg3,Qxh3+,Kxh3,Nxg5+,Kg3,h4+,Kg4', 'Rg2+,Kxh4,Bf2#', 'https://lichess.org/training/XIvhy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XiVy2', 'Blitz', 'FM legato', 2455, 'GirlsOnFire', 2463, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,d5,Bb5,Ne4,cxd4,Bb6,Nc3,O-O,Be3,Bg4,h3,Bh5,Qc2,f5,Nxd5,Ba5+,Ke2,Nxd4+,Bxd4,Nd2,Qc5,Ne4,Qc4,Bf7,e6,Bxe6,Nf6+,Rxf6,Bxf6,Bxc4+', 'Bxc4+,Kh8,Bxd8', 'https://lichess.org/training/XiVy2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xiWhT', 'Rapid', 'Daaaaaaaark', 1748, 'jhonbonachon', 1700, 'e4,e5,Nf3,d6,h3,b6,Bb5+,Bd7,Bxd7+,Qxd7,d4,exd4,Qxd4,Nc6,Qc3,O-O-O,Bd2,Re8,Qc4,Kb7,O-O,Nf6,Re1,Qe7,Nc3,a6,Nd5,b5,Qd3,Nxd5,exd5,Ne5,Nxe5,dxe5,Bf4,f6,Rad1,Qc5,Be3,Qb4,Bc1,Bc5,c3,Qa5,b4,Bxf2+,Kxf2,Qxa2+,Re2,Qc4,Be3,g5,Bc5,Qxd3,Rxd3,e4,Rd4,f5,g3,h5,h4,gxh4,gxh4,Rhg8,Re3,Rg4,Rh3,Rf4+,Ke3,Rg4,d6,f4+,Kf2,cxd6,Bxd6', 'e3+,Kf3,e2', 'https://lichess.org/training/xiWhT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xIwlG', 'Rapid', 'Iwillkillyourking', 1686, 'Grim_Reaper_83', 1669, 'e4,c5,Nf3,Nf6,Bc4,e6,e5,d5,exf6,dxc4,fxg7,Bxg7,Nc3,Nc6,O-O,Rg8,Qe2,Nb4,Qxc4,Nxc2', 'Qa4+,Bd7,Qxc2', 'https://lichess.org/training/xIwlG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xIxdO', 'Rapid', 'DEVANSh29', 1896, 'snake27', 1801, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Bb4,Nxc6,bxc6,Qd4,Bxc3+,Qxc3,Nf6,Bd3,O-O,Bg5,e5,Qxe5,Ng4,Qf4,Qa5+,c3,Nxf2,Kxf2,f6,Bh6,gxh6,b4,Qg5,Ke3,Re8,Raf1,Re6,Bc4,d5,Bd3,Ba6', 'Qxg5+,hxg5,Bxa6', 'https://lichess.org/training/xIxdO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xIxVG', 'Rapid', 'vetcumeo1234', 1693, 'sanzlovo', 1750, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,f3,a6,Qd2,Bd7,h4,Nc6,Nxc6,Bxc6,Bh6,O-O,Bxg7,Kxg7,O-O-O,b5,h5,b4,Nd5,Bxd5,exd5,Nxh5,g4,Nf6,Qh6+,Kg8,g5,Nh5,Be2,Qb6,f4,Qe3+,Rd2,Qxf4', 'Bxh5,gxh5,Rxh5', 'https://lichess.org/training/xIxVG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xiYmH', 'Bullet', 'sirStof', 1691, 'ausama', 1689, 'e4,c5,Nf3,d6,Bc4,Nc6,d4,e6,dxc5,d5,exd5,exd5,Bb3,Bxc5,O-O,Nf6,Re1+,Be6,Ng5,O-O,Nxe6,fxe6,Rxe6,Ne4,Be3,Bxe3,fxe3,Qh4,Bxd5', 'Qf2+,Kh1,Qf1+,Qxf1,Rxf1#', 'https://lichess.org/training/xiYmH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XIZ1H', 'Rapid', 'henriquecf', 1878, 'eiq150', 1819, 'd4,d6,c4,e6,Nf3,Ne7,Nc3,Ng6,e4,Nd7,Bd3,Be7,O-O,e5,d5,O-O,b4,h6,a4,Nf6,b5,Bd7,h3,Qc8,Be3,Bxh3,gxh3,Qxh3,Re1,Nh5,Nh2,Nhf4,Bxf4', 'Nxf4,Bf1,Qxc3', 'https://lichess.org/training/XIZ1H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xIZVR', 'Rapid', 'radivojegacevic', 1786, 'Jippii3', 1668, 'e4,c5,Bc4,Nc6,a3,Nf6,d3,d6,c3,e5,h3,Be7,Nf3,O-O,Bb3,Be6,Bc2,b5,O-O,Nd7,Be3,f5,exf5,Bxf5,Qe2,d5,Nbd2,e4,dxe4,dxe4,Nxe4,c4,Ng3,Bxc2,Qxc2,Nde5,Nd4,Nxd4,Bxd4,Nf3+,gxf3,Rxf3,Kg2,Qd5,Qe4', 'Rxg3+,fxg3,Qxe4+', 'https://lichess.org/training/xIZVR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xj0yV', 'Rapid', 'osama633', 1610, 'kelvindo', 1650, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Qf3,d6,Be2,Qf6,Qg3,Be6,Nc3,O-O-O,Bg5,Qg6,Bxd8,Qxg3,hxg3,Kxd8,O-O-O,Bxf2,g4,Kc8,Nd5,Ne5,Nd4,Bxg4,Bxg4+,Nxg4,Nf5,g6,Nfe7+,Nxe7,Nxe7+,Kd7,Nd5,c6,Nc3,Be3+,Kb1,Nf2,Rde1,Nxh1,Rxe3,Nf2,Rf3,Ng4,Rxf7+,Kc8,Ne2,Re8,Nc3,d5,Rf4,Ne3,exd5,Nxg2,Rf1,Re1+,Rxe1,Nxe1,dxc6,bxc6,Ne4,h5,Ng5,h4,Kc1,Ng2,Kd2,Kd7,Ke2,Ke7,Kf3,Ne1+,Kg4,Nxc2,Kxh4,Kd6,Ne4+,Kd5,Nc3+,Kc4,Kg5,Nb4,Kxg6,Nd3,Nd1,Nc1,Nc3,Nd3,Nd1,a5,Kf5,a4,Ke4,c5', 'Ne3+,Kb5,Kxd3', 'https://lichess.org/training/xj0yV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJ3bl', 'Blitz', 'Anandhi_P', 1571, 'nivedbinod', 1507, 'e4,e5,Nf3,Nc6,Bc4,b6,O-O,Bb7,Nc3,Bd6,d3,Nf6,Bg5,O-O,Qd2,h6,Bh4,Qe7,Nd5,Qd8,Nxf6+,gxf6,Qxh6,Be7,Qg6+,Kh8,Bxf7,Rxf7,Qxf7,Qf8,Qxf8+,Rxf8,c3,Rg8,d4,exd4,cxd4,Nd8,e5,fxe5,Bxe7,Bxf3,Bxd8', 'Rxg2+,Kh1,Rg7#', 'https://lichess.org/training/XJ3bl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xj70y', 'Rapid', 'Leesteken1', 1672, 'nietakszybko', 1648, 'c4,e5,e4,Bc5,Nf3,d6,Nc3,Bg4,Be2,Nf6,h3,Bh5,g4,Bg6,d3,Nc6,Nh4,Nxe4,Nxe4,Qxh4', 'Bg5,Bxe4,Bxh4', 'https://lichess.org/training/Xj70y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xJ8vB', 'Rapid', 'YohanPx', 1896, 'FootyBally', 1918, 'e4,e5,Nf3,c5,Bc4,Nf6,d3,Be7,Nxe5,Nc6,Bxf7+,Kf8,Nxc6,dxc6,Bb3,Nd7,Qf3+,Bf6,O-O,Ne5,Qh5', 'Bg4,Qxg4,Nxg4', 'https://lichess.org/training/xJ8vB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xjA1m', 'Rapid', 'Mgreen54', 1691, 'hermes_4891', 1646, 'e4,d6,f4,d5,e5,e6,Nf3,c5,c3,Be7,d4,Nh6,Bd3,Bd7,O-O,g6,b3,Nc6,Nbd2,O-O,a4,Rc8,Ba3,cxd4,Bxe7,Qxe7,Nxd4,Qc5,Nf3,Qxc3,Rc1,Qb4,Nxc6,bxc6,Kh1,Qxf4,Ba6,Rb8,Qd4,Qxd4,Nxd4,Kg7,Nxc6,Bxc6,Rxc6,Rxb3,Bb5,Nf5,Rc7,Nd4,Be8,Nf5,Bb5,d4,Bc4,Rb4,Bxe6,Rxa4,Bb3,Ra5,g4,Nh6,e6,Nxg4,e7,Re8,Rxf7+,Kh6,Rf8,Rxe7,Rxe7,d3,Rd8,Ra1+,Kg2,Rb1,Rxd3,Rb2+,Kg3,Nxh2,Kf4,Rf2+,Kg3,Rb2,Bd1,Nf1+,Kf3,Nd2+,Rxd2,Rxd2,Be2,Kh5', 'Ke3+,Rxe2+,Kxe2', 'https://lichess.org/training/xjA1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJBvx', 'Rapid', 'Herval', 2104, 'PandaBanana', 2063, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Be3,Bxe3,fxe3,O-O,O-O,Na5,Nbd2,Nxc4,Nxc4,d6,Qe1,b5,Ncd2,c5,Qh4,Ng4,Ng5,h6,Ndf3,Nxe3,Rf2,Ng4,Re2,hxg5,Nxg5,Nh6,Rf1,Bg4,Ref2,d5,h3,Be6,Qh5,dxe4', 'Nxe6,fxe6,Rxf8+,Qxf8,Rxf8+', 'https://lichess.org/training/XJBvx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xjcfr', 'Classical', 'bilalihabes', 1683, 'Gouranshsharma', 1757, 'g4,d5,h3,c5,Nc3,e5,d3,f5,gxf5,Bxf5,e4,dxe4,dxe4,Qxd1+,Kxd1,Bg6,Bb5+,Nc6,Bxc6+,bxc6,Nf3,Nf6,Nxe5,Nxe4,Nxe4,Bxe4,Rg1,Bd6,Nd3,g6', 'Re1,O-O,Rxe4', 'https://lichess.org/training/Xjcfr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJcHx', 'Blitz', 'chess-sopernik', 2162, 'Buhle45', 1967, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Nxe4,Bxf7+,Ke7,Nxe4,Kxf7,O-O,h6,Nbc3,d5,Qf3+,Kg8,Nxd5,Nd4,Nef6+,gxf6,Nxf6+,Kg7,Nh5+,Kh7', 'Qf7+,Bg7,Qxg7#', 'https://lichess.org/training/XJcHx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XjcZ0', 'Blitz', 'enelram2020', 1728, 'JamesGarcia', 1921, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,c3,Qb6,Be2,Nh6,h3,Be7,O-O,Nf5,d4,cxd4,cxd4,Ncxd4,Kh2,Nxe2,Qxe2,Bd7,Nc3,d4,Ne4,Bb5,Qf2,Bxf1,Qxf1,Ne3,Bxe3,dxe3,Qe2,O-O,Re1,Rfd8,Nfg5,h6,Nf3,Bb4,Rf1,Rac8,a3,Bf8,b4,a5,Nh4,axb4,Qg4,Be7,Nf6+,Bxf6,exf6,g6,Nxg6,Kh7', 'Nf8+,Rxf8,Qg7#', 'https://lichess.org/training/XjcZ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJDk0', 'Rapid', 'ta4erka228', 1828, 'mikiscoffield', 1820, 'd4,d5,Nf3,e6,Bf4,c5,e3,Nc6,c3,cxd4,exd4,Bd6,Ne5,Qc7,Qg4,Nf6', 'Qxg7,Rg8,Qxf6', 'https://lichess.org/training/XJDk0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XjEt9', 'Blitz', 'Japaw', 1559, 'atlerygg', 1501, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,d4,exd4,Nxd4,Bd7,O-O,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,Nc3,Be7,Re1,Rd8,Bg5,O-O,h4,h6,Bd2,Qc6,Rad1,Rfe8,Qd3,b5,Nd5,Nd7,b3,Ne5,Qg3,Qxc2,Bxh6,g6,h5,Qxa2,hxg6,Nxg6,f4,Kh7,Bg5,Bxg5,fxg5,Rh8,Nf6+,Kg7,e5,dxe5,Rxd8,Rxd8,Nh5+,Kf8,Rxe5,Nxe5,Qxe5,Qxb3,g6,fxg6', 'Qg7+,Ke8,Nf6#', 'https://lichess.org/training/XjEt9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XjfGQ', 'Rapid', 'bdjbdjdb', 1876, 'aGuibs', 1847, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,e3,e6,Nf3,Bb4,a3,Bxc3+,bxc3,O-O,c4,dxc4,Bxc4,a6,O-O,Nc6,Bd3,b5,e4,Nxd4,e5,Nxf3+,Qxf3,Nd5,Qh3,g6,Bh6,Re8,Qf3,Qh4,Bd2,Bb7,g3,Qd8,Be4,Rb8,Bxd5,Bxd5,Qe3,Qe7,Qh6,Qf8,Qg5,Qg7,Qe3,Red8,Bb4,g5,Be7,Rdc8,Bf6,Qg6,Rfc1,Rxc1+,Rxc1,h6,Qa7,Ra8', 'Qxa8+,Bxa8,Rc8+,Kh7,Rh8#', 'https://lichess.org/training/XjfGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xJFnN', 'Rapid', 'som23', 1803, 'blacksovereign', 1936, 'e4,e6,d4,b6,c4,Ba6,Nc3,c6,Nf3,d5,cxd5,Bxf1,Rxf1,cxd5,e5,Bb4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/xJFnN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJFOf', 'Rapid', 'Mimmo62', 1624, 'Forgotten_Fish', 1650, 'c4,e5,d4,exd4,Qxd4,Nc6,Qd1,Nf6,h3,Bc5,Nc3,O-O,Nf3,Re8,Bg5,Be7,e3,d6,Bd3,Nb4,a3,Nxd3+,Qxd3,Bd7,O-O-O,a5,Nd5,c6,Nxf6+,Bxf6,Bxf6,Qxf6,e4,b5,e5,Qf4+,Rd2,Bf5,g3,Qxc4+,Qxc4,bxc4,Rxd6', 'Be4,Re1,Bxf3', 'https://lichess.org/training/XJFOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJgMR', 'Blitz', 'Darkcurry', 1936, 'AstronomGX', 1865, 'Nf3,c6,e4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Bd6,O-O,O-O,d4,Re8,c3,Nd7,Bb3,Nf8,Bc2,Bg4,h3,Bd7,Be3,Qc8,Re1,g5,Qd3,Kg7,Nh2,Bxh3,Bxg5,Rxe1+,Rxe1,fxg5,Qxh3,Qxh3,gxh3,Ng6,Nf3,h6,Bxg6,Kxg6,Ne5+,Kg7,Nc4,Bf4,Re7,Rb8,Na5,Bc1,Nxb7,Bxb2,Nd6,Bxc3,Rxf7+,Kg6,Rxa7,Bxd4,Rc7,c5,Nc4,Rb4,Rc6+,Kh5,Nd2,Rb2,Ne4,Rxa2', 'Ng3+,Kh4,Rxh6#', 'https://lichess.org/training/XJgMR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJGte', 'Rapid', 'Megadoggah', 2146, 'Boomrang', 2114, 'd4,d5,Nf3,Nc6,c4,e6,e3,Nf6,Nc3,Bb4,Bd2,O-O,Qc2,Be7,Bd3,Nb4,Qb1,Nxd3+,Qxd3,c6,Ne5,a6,g4,Qb6,Rb1,Qa5,Nxd5,Qxd2+,Qxd2,exd5,f3,dxc4,Nxc4,Nd5,O-O,f5,h3,Bb4,Qd3,Be6,a3,Be7,Ne5,Bg5,Rbe1,f4,e4,Ne3,Rxe3,fxe3,Nc4,Rad8,Nxe3,Bf6,e5,Bg5,Ng2,b5,f4,Bc4,Qe4,Bd5,Qe3,Bxg2,Kxg2,Bh4,g5,h6,g6,Rd5,f5,Bg5,Qe4,Rfd8,Rd1,c5,f6,cxd4,fxg7,Kxg7,Rf1,d3,Rf7+,Kg8,e6,d2,e7,Bxe7,Qxe7,Rg5+,Kf2,d1=N+,Kf3,Rd3+,Ke4', 'Re3+,Kd4,Rxe7', 'https://lichess.org/training/XJGte');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xjGuO', 'Rapid', 'OLI959', 2059, 'momo_klaus', 2122, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,Nb5,Bxe3,fxe3,Qh4+,g3,Qxe4,Nxc7+,Kd8,Nxa8,Qxh1,Qd6,Nf6,Nd2,Qxh2,O-O-O,Ne8,Qf4,Qh6,Qxf7,Qxe3,Kb1,Qxg3,Nf3,Qg6,Qf4,Qf6,Qg4,Rf8,Bh3,Qxf3', 'Rxd7+,Bxd7,Qxd7#', 'https://lichess.org/training/xjGuO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xjhqc', 'Classical', 'Osten1980', 1792, 'BartolomejBuchta', 1631, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,dxc4,e3,a6,Bxc4,b5,Bb3,Bb4,Bd2,O-O,O-O,Re8,Ne5,Bb7,f4,Bxc3,Bxc3,Nd5,Qg4,Nxe3,Qh5,Nxf1,Qxf7+,Kh8,Qxe6,Qe7,Ng6+,hxg6', 'Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/Xjhqc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xJHTv', 'Rapid', 'knock_out101', 2109, 'SpikeReidz', 2264, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,c3,O-O,d4,Bb6,dxe5,Nxe4,Qd5,Nxf2,Rxf2,Bxf2+,Kxf2,Ne7,Qd3,h6,Na3,a6,Ba4,b5,Bc2,Ng6,Bf4,Bb7,Bg3,Re8,Rd1,d6,exd6,Be4,Qd2,cxd6,Bxe4,Rxe4,Qxd6,Qe8,Rd2,Ne7,Nc2,Nf5,Qd7', 'Re2+,Rxe2,Qxd7', 'https://lichess.org/training/xJHTv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJJGl', 'Blitz', 'AphroditeKylix', 1991, 'Selmar80', 2188, 'd4,e5,Nf3,e4,Nfd2,d5,c4,c6,e3,Nf6,g3,a6,Bg2,b5,cxd5,cxd5,O-O,Bg4,f3,exf3,Bxf3,Bxf3,Nxf3,Bd6,Nbd2,O-O,Re1,Re8,Qc2,Nbd7,e4,Rc8,Qb1,dxe4,Nxe4,Nxe4,Rxe4,Nf6,Rxe8+,Qxe8,Qf5', 'Rxc1+,Rxc1,Qe3+,Kg2,Qxc1', 'https://lichess.org/training/XJJGl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xJk53', 'Rapid', 'Luxben', 1834, 'RookPawnBishop', 1810, 'e4,e5,d4,exd4,Qxd4,d6,Qa4+,Nc6,c3,a6,h3,b5,Qc2,Bb7,Bd3,Ne5,Be3,Nf6,Nd2,d5,Ne2,Bd6,O-O,Qe7,Ng3,g6,Bd4,Nxd3,Qxd3,O-O-O,Rae1,Be5,Bxe5,Qxe5,exd5,Rxd5,Rxe5,Rxd3,Nb3,h5,Nc5,Rd5,Rxd5,Nxd5,Re1,h4,Nge4,Nf4,f3,Re8,Rd1,a5,Rd7,f5,Nf6,Re1+,Kf2,Rb1,Nxb7,Kxb7,Rd2,Kc6,Nd7,Ra1,Ne5+,Kc5,a3,b4,cxb4+,axb4,axb4+,Kxb4', 'Rd4+,Kb3,Rxf4', 'https://lichess.org/training/xJk53');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xJkyX', 'Bullet', 'GM DrDrunkenstein', 2979, 'IM opperwezen', 2745, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bf4,O-O,e3,a6,cxd5,exd5,Bd3,c6,h3,Nbd7,O-O,Re8,Qc2,Nf8,Rae1,Bd6,Bxd6,Qxd6,Ne5,N6d7,f4,f6,Nf3,Nb6,e4,dxe4,Nxe4,Qd8,Nc5,Rxe1,Rxe1,Nd5,Bc4,b6,Nd3,Qd6,Bxd5+,cxd5,Re8,Kf7', 'Rxc8,Rxc8,Qxc8', 'https://lichess.org/training/xJkyX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xJlgd', 'Bullet', 'modrikit', 1876, 'Dorto', 1955, 'e4,c6,d4,d5,exd5,cxd5,Bb5+,Nc6,Bxc6+,bxc6,h3,Nf6,Nf3,Ba6,Bg5,e6,Ne5,Rc8,c3,Qb6,b3,c5,Be3,Ne4,f3,Ng3,Kf2,Nxh1+,Qxh1,cxd4,cxd4,Rc2+,Kg3,Bd6,Qd1,Qc7,Na3,Bxe5+,dxe5,Qxe5+,Bf4,Qb2,Nxc2,O-O,Rb1,Qf6,Kh2,Qxf4+,Kh1,Rc8,Nd4,Qg3,Ne2,Qf2,Rc1,Rxc1,Qxc1,Qxe2,Qc6,Qb5', 'Qa8+,Bc8,Qxc8+,Qe8,Qxe8#', 'https://lichess.org/training/xJlgd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xjlrc', 'Rapid', 'krzychu-b', 1680, 'FernandoPascual', 1683, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,Bg4,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,d3,Nd4,Na3,d5,exd5,Bxa3,bxa3,Nxc2,Rb1,Rb8,Bb3,Nd4,Ba4+,b5,Re1,O-O,Rxe5', 'bxa4,Rxb8,Rxb8', 'https://lichess.org/training/xjlrc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJNbA', 'Blitz', 'BISSONNN-fish', 1971, 'Albiq', 1647, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Ne7,Bxe5,a6,Bxc6+,Nxc6,Bb2,Bd6,Ne2,O-O,O-O,Bg4,f3,Bh5,Ng3,Bg6,d3,Qh4,Qe1,Nb4,Na3,Rfe8,f4,Bxf4', 'Rxf4,Qxf4,exf4,Rxe1+,Rxe1', 'https://lichess.org/training/XJNbA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xJOut', 'Rapid', 'daballesta', 1682, 'iran_kermanshah', 1711, 'e4,c5,Nf3,e6,Bc4,a6,a3,d5,exd5,exd5,Ba2,Bg4,h3,Bh5,c3,Nc6,d3,Be7,Bf4,Nf6,Nbd2,O-O,O-O,Bg6,Bb1,b6,Re1,Bd6,Be3,Bh5,Nf1,Ne5,N1h2,Nc6,g4,Bg6,Bg5,h6,Bc1,Qc7,Kh1,Rfe8,Rg1,Bf4,Bc2,Re7,Rg2,Rae8,Bd2,b5,h4,c4,dxc4,Bxh2,Rxh2,Nxg4,Rg2,Nge5,Bf4,bxc4,Bxg6,fxg6,Rxg6,Qb6,Be3,Qxb2,Qxd5+,Kh7,Rag1,Nxg6,Qf5,Re6,h5,Qxc3,hxg6+,Kh8,Ng5,Qd3', 'Nf7+,Kg8,Nxh6+', 'https://lichess.org/training/xJOut');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XjqL4', 'Rapid', 'Virginio13', 1622, 'PXN', 2077, 'e4,c5,d4,cxd4,c3,d5,exd5,Qxd5,cxd4,Nc6,Be3,e5,Nc3,Qa5,dxe5,Bb4,Qc2,Nxe5,Ne2,Nf6,a3,O-O,Rd1,Be7,Nd4,Bg4,Be2,Nd5,Bd2,Rac8,Bxg4,Nxg4,O-O,Bf6,Nde2,Rfe8,h3,Ne5,Rfe1,Nc4,Bc1,Ne5,Bd2,Qc7,Qe4,Nxc3,Bxc3,Nc4,Qg4,Bxc3,Nxc3,Nxb2,Nd5,Qd6,Qxc8', 'Rxc8,Ne7+,Qxe7,Rxe7,Nxd1', 'https://lichess.org/training/XjqL4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xJSuT', 'Rapid', 'ARMAN95', 1873, 'pigiert2', 1924, 'e4,d6,d4,Nf6,Nc3,g6,Bg5,Bg7,Qd2,O-O,Bh6,Nc6,O-O-O,a6,Bxg7,Kxg7,h4,h5,f3,b5,Be2,Bb7,g4,Qd7,gxh5,Nxh5,f4,b4,Na4,Ng3,Rh3,Nxe4,Qe3,Nd8,b3,Bc6,h5,Rh8,h6+,Rxh6,Rxh6,Kxh6,f5+,Kg7,fxg6,fxg6,Nb2,Nc3,Rf1,Nxa2+,Kd2,Ne6,Bc4,d5,Bd3,Rf8,Nf3,Nc3,Qe5+,Kg8,Rh1,Ng7,Ng5,Rf2+,Ke1,Rg2,Bxg6,Re2+,Qxe2,Nxe2', 'Bf7+,Kf8,Rh8#', 'https://lichess.org/training/xJSuT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xJuNO', 'Rapid', 'Eliel_123', 1685, 'Matealvaro_Moiseenko', 1811, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bd6,O-O,O-O,c4,c6,Nc3,Bf5,cxd5,Nxc3,bxc3,Bxd3,Qxd3,cxd5,Ng5,g6,Nf3,Nd7,Re1,Nf6,Bh6,Re8,Bg5,Kg7,Qb5,Qd7', 'Bxf6+,Kxf6,Qxd7', 'https://lichess.org/training/xJuNO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJUtH', 'Classical', 'Arkya_chatt139', 1998, 'Pritam_007', 1862, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Be3,Nf6,Nc3,g6,f3,Bg7,Qd2,O-O,O-O-O,Re8,Nb3,d6,Bh6,Bh8,g4,Ne5,Be2,Be6,h4,Bc4,h5,Bxe2,Qxe2,Rc8,hxg6,fxg6,Bf4,Nc4,Qh2,Bg7,Bg5,a5,Bxf6,exf6,Qxh7+,Kf7,f4', 'Rh8,Qxh8,Bxh8', 'https://lichess.org/training/XJUtH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJvBy', 'Rapid', 'pablo5000oy', 1820, 'kvflux', 1747, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,Bg4,Be2,e5,Nxe5,Nd4,Nxg4,Nxg4,Bxg4,h5,Bf3,g5,O-O,Bc5,Re1+,Kf8,a3,Qb6,b4,Nc2,Ra2,Bxf2+,Kh1,Nxe1,Bb2,Rh6,Nc3,g4,Nd5,gxf3,Nxb6', 'fxg2#', 'https://lichess.org/training/XJvBy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xjWc6', 'Classical', 'Mrexxx', 1629, 'fatihdurgun5858', 1620, 'e4,d6,Bc4,g6,Qf3,Nf6,d3,Nc6,a3,Nd4,Qd1,Bg7,c3,Nc6,Bg5,h6,Bh4,O-O,f4,e5,f5,gxf5,exf5,Bxf5,Bxf6,Bxf6,Qh5,Bg5,h4,Bg6,Qg4,h5', 'Qxg5,Qxg5,hxg5', 'https://lichess.org/training/xjWc6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJWN2', 'Rapid', 'zulkiplikipli72', 1903, 'ybukenov', 1921, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,Nc6,O-O,Nf6,d3,e6,Bg5', 'Bxf3,Bxf3,Qxg5,Bxc6+,bxc6', 'https://lichess.org/training/XJWN2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJwvX', 'Rapid', 'vikingo31', 2173, 'blvdwoude', 2180, 'd4,d6,Nf3,Nd7,Bf4,g6,h3,Bg7,c4,Ngf6,Nc3,O-O,e3,c6,Be2,Ne8,O-O,e5,Bh2,f5,Rc1,Qf6,Qb3,Kh8,Na4,Nc7,c5,e4,Nd2,Ne8,cxd6,Nxd6,f3,exf3,Bxf3,Re8,Rce1,Nb6,Nc5,Be6,Qc2,Bd5,a4,Rxe3,Rxe3,Qxd4,Re1,Ndc4,Nxc4,Nxc4,Nb3,Qb6,Bxd5', 'Nxe3,Qf2,Nxd5', 'https://lichess.org/training/XJwvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XjXgN', 'Rapid', 'Ansemen', 1867, 'amine2173', 1849, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,d5,Nh5,Bg5,Qe8,Qd2,f5,Bh6,f4,Bxg7,Kxg7,O-O-O,Nd7,g4,fxg3,hxg3,Nc5,Ng5,Rxf2,Rhf1,Qf8,Rxf2,Qxf2,Rf1,Qxg3,Bxh5,gxh5,Rf7+,Kg6,b4,Nd7,Rxh7,Qxg5', 'Rg7+,Kxg7,Qxg5+', 'https://lichess.org/training/XjXgN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJYS0', 'Rapid', 'emilnedisan', 1672, 'dufyduck', 2056, 'e4,c5,c4,e6,d3,Nc6,g3,d5,cxd5,exd5,Bg2,dxe4,Bxe4,Bd7,Qe2,Be7,Nf3,Nf6,Bg5,Nxe4,Qxe4,O-O,Bxe7,Qxe7,Qxe7,Nxe7,O-O,Bc6,Ne5,Rad8,Rd1,Bd5,b3,Nc6,Nxc6,Bxc6,Nc3,Rfe8,a4,a6,Kf1,Bf3,Rd2,g6,Re1', 'Bg2+,Kxg2,Rxe1', 'https://lichess.org/training/XJYS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XJzIW', 'Rapid', 'Kuda_Hitam', 1878, 'solognot', 2060, 'e4,g6,f4,c6,d4,d5,e5,h5,Be2,Nh6,Nf3,Bg4,O-O,e6,Ng5,Bxe2,Qxe2,Nf5,c3,Qb6,Nd2,c5,Ndf3,Nc6,Kh1,h4,b3,cxd4,cxd4,Ncxd4,Nxd4,Qxd4', 'Qb5+,Kd8,Nxf7+', 'https://lichess.org/training/XJzIW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xJZlZ', 'Rapid', 'Mercypleee', 1649, 'Themistoflix', 1649, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,d5,Bg5,dxe4,Bxf6,Qxf6,dxe4,Bg4,Be2,Rd8,Qc2,Bc5,Nbd2,O-O,O-O,h5,h3,Be6,Kh1,Ne7,a4,Ng6,b4,Be7,Bc4,Nf4,Bxe6,Qxe6,Rfe1,g5,Qb3,Qf6,Nc4,g4,hxg4,hxg4,Nfxe5,Qh4+,Kg1,Kg7,g3,Nh3+,Kg2,Qf6,Nxg4,Nf4+,gxf4,Qxf4,f3,Bh4,Rf1,Rh8,Ra2,Qg3+,Kh1,Bg5+,Rh2,Bf4,Qb2,Rd2,Nxd2', 'Rxh2+,Nxh2,Qxh2#', 'https://lichess.org/training/xJZlZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xjZTI', 'Rapid', 'gaviyy', 2091, 'nigelslemani', 2115, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,b6,Bg2,Bb7,O-O,Nge7,c3,Ng6,exd5,exd5,Re1+,Be7,d4,O-O,h4,Bd6,h5,Nge7,Nf1,f5,Bg5,f4,Qe2,h6,Qe6+,Kh8,Bxh6,Rf6,Bxg7+,Kxg7,Qg4+,Kh6,Ne5,Bc8,Qh4,Qf8,Nxc6,Nxc6,Bxd5,Bd7,Nd2,fxg3,fxg3,Qg7,Ne4,Raf8,Nxf6,Rxf6,Rf1,Rxf1+', 'Rxf1,Be7,Qf4+', 'https://lichess.org/training/xjZTI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XK4po', 'Blitz', 'nicras', 1678, 'Boris363', 1715, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bd3,Be7,O-O,O-O,Nc3,Bd7,Be2,Nc6,Nf3,Bg4,Ne1,Bxe2,Qxe2,Nd4,Qd3,c5,Nf3,Nxf3+,Qxf3,a6,Nd5,Nxd5,exd5,Bf6,c3,b5,Qg3,Be5,Qg4,Qc8,Qh4,Bf6,Qg3,Be5,Qh4,Kh8,f4,Bf6,Qg3,b4,f5,bxc3,bxc3,Qd7,Bg5,Bxg5,Qxg5,f6,Qg4,Rfe8,Rf3,Qe7,Rg3,Rab8,Rf1,Rb2,a3,Rg8,Qh4,Qe2', 'Qxh7+,Kxh7,Rh3+,Qh5,Rxh5#', 'https://lichess.org/training/XK4po');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xK5Ch', 'Rapid', 'vorensze', 1755, 'bidhans', 1663, 'd4,b6,Bf4,Bb7,Nf3,Nf6,c3,Nh5,Bd2,Nf6,e3,Ne4,Bd3,Nxd2,Nbxd2,e6,O-O,Bd6,e4,Bf4,Re1,O-O,Nc4,d5,exd5,Bxd5,Ne3,Bxe3,Rxe3,Nd7,Qc2,g6,Rae1,Qf6,Be4,c6,c4,Bxe4,Rxe4,Rfd8,Qc1,Qg7,Ng5,Re8,Rh4,Nf6,Ne4,Nxe4,Rhxe4,Red8,Rd1,Rd7,d5,cxd5,cxd5,exd5,Qc6,dxe4', 'Qxa8+,Qf8,Qxf8+,Kxf8,Rxd7', 'https://lichess.org/training/xK5Ch');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xk9VK', 'Rapid', 'hosein611', 1715, 'leandros', 1652, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d3,h6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Nd5,Nxd5,Qxd5,Rb8,Bc4,Qe7,Bd2,Bb7,Qd4,Qxe4+,Qxe4+,Bxe4,O-O,Bxc2,Rfe1+,Kd8,Rac1,Ba4,Bxf7,Bd6,Bc3,Rf8,Bh5,Bc5,Re2,Rf5,Bf3,g5,Bh5,c6,Re8+,Kc7,Be5+,Bd6', 'Bxd6+,Kxd6,Rxb8', 'https://lichess.org/training/Xk9VK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XKacB', 'Rapid', 'NestorVive', 1670, 'maikkel', 1662, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,Nc3,Nf6,Qe2,e6,Bg5,Be7,O-O-O,h6,Bh4,a6,Ba4,b5,Bb3,Nxd4,Rxd4,O-O,h3,Nh7,Bg3,Rc8,Bxd6,Bxd6,Rxd6,Qe7,Rhd1,Bc6,e5,Qg5+,R1d2,Qxg2,f4,Qxh3,R6d3,Qf5,Qh2,Be4,Rg3,Qxf4', 'Rxg7+,Kxg7,Qxf4', 'https://lichess.org/training/XKacB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xKAel', 'Blitz', 'arul_kumar_1993', 2011, 'd_shamik', 1941, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Bb7,Ba4,Bd6,c3,O-O,b4,c5,Qe2,cxb4,cxb4,Nc6,Bxc6,Bxc6,b5,Bxg2,Rg1,Bd5,Nc3,Bc7,d3,Re8,Nge4,Ba5,Bd2,Nxe4,Nxe4,Bxd2+,Kxd2,f5,Ng3,Qf6,Nh5,Qh6+,Kc2,g5,h4,g4,f3,Qxh5,fxg4,Rac8+,Kb2,fxg4', 'Rxg4+,Kh8,Rg8+,Rxg8,Qxh5', 'https://lichess.org/training/xKAel');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xKbfD', 'Rapid', 'Tofiq1996', 1726, 'SvanteX', 1715, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,O-O,d6,Nc3,Na5,Bb3,Nxb3,axb3,O-O,Be3,Bxe3,fxe3,Bg4,h3,Bh5,Qd2,c6,b4,b5,d4,Bg6,dxe5,Nxe4,Nxe4,Bxe4,exd6,f5,b3,Qf6,c4,Bxf3,gxf3,Rfe8,e4,fxe4,fxe4,Qg6+,Qg2,Qxd6,c5,Qd4+,Qf2,Qxb4,Rxa7,Qxb3,Rf7,Qxh3,Rf3,Qg4+,Rg3,Qd7,Rf3,Qg4+,Rg3,Qxe4', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/xKbfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xkdeI', 'Rapid', 'jamie_hurley', 1654, 'master15581', 1666, 'd4,d5,c4,Nf6,c5,Nc6,Nf3,b6,cxb6,axb6,e3,Bf5,Bb5,Bd7,Nc3,Nb4,a3,Bxb5,Nxb5,e6,Bd2,Nd3+,Ke2,Ng4,Rf1,Nxb2,Qb3,Nc4,h3,Nf6,Rfc1,c6,Nc3,Bd6,Na4,b5,Nc5,O-O,Bb4,Ne4,Nb7,Qc7,Nxd6,Nexd6,Ne5,f6,Ng4,e5,dxe5,fxe5,Qc3,Rfe8,Qd3,d4,e4,Rad8,Qg3,Qf7', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/xkdeI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xkebb', 'Classical', 'WyattDeCesare', 2128, 'LevNTolstoy', 1915, 'Nc3,d5,e4,d4,Nd5,e5,Nf3,c6,Nb4,Bxb4,Nxe5,Qe7,Nf3,Qxe4+,Qe2,Qxe2+,Bxe2,c5,a3,Ba5,b4,cxb4,axb4,Bxb4,Nxd4,Nc6,Nb5,Kd8,c3,Ba5,Nd6,Be6', 'Nxb7+,Kd7,Nxa5,Nxa5,Rxa5', 'https://lichess.org/training/xkebb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xKeD0', 'Rapid', 'Feryl', 2080, 'ucesz', 1861, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Qg4,O-O,O-O-O,c5,Nb5,cxd4,Nf3,Nc6,Qf4,f6,Nbxd4,fxe5,Nxc6,bxc6,Qg3,e4,Nd4,c5,Nc6,Qf6,Bb5,Qxf2,Qxf2,Rxf2,Ne7+,Kf7,Nxc8,Rxc8,Bxd7,Rc7,Rhf1,Rxf1,Rxf1+,Ke7,Ba4,d4,Re1,e3,Kd1,Kd6,Ke2,Rf7,Kd3,Rf2,Re2', 'c4+,Kxc4,Rxe2', 'https://lichess.org/training/xKeD0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xKeqs', 'Rapid', 'human_easy', 1724, 'IQ_Jese', 1738, 'e4,e5,Nf3,Nf6,Nxe5,Be7,Nc3,O-O,d4,d5,exd5,Bd6,Be2,Re8,O-O,Bf5,Bf4,Qe7,Re1,Bb4,Nc4,Nbd7,Bxc7,Ne4,Bf3,Bxc3,bxc3,Ndf6,d6,Qd7,Ne5,Qe6,Bxe4,Bxe4,Qd2,Qd5,Qg5,h6,Qg3,Nh5,Qg4,Nf6,Qg3,Nh5,Qh3,Nf4,Qg3,g5,Ng4,Bxc2,Rxe8+,Rxe8,Nxh6+,Kh7,Nxf7', 'Ne2+,Kh1,Nxg3+', 'https://lichess.org/training/xKeqs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XKeZY', 'Classical', 'wknezevic', 1741, 'MMMMichael', 1762, 'e4,e6,Nc3,d5,d4,Bb4,f4,dxe4,Qe2,Qxd4,Bd2,Nf6,a3,Ba5,Rd1,Nc6,Qe3,Bxc3,Qxc3,O-O,Qxd4,Nxd4,Rc1,Bd7,c3,Nb3,Rd1,Rad8,Bc4,Ba4,Ne2,Nxd2,Rxd2,Nd5,O-O,Rd7,Rd4,e3', 'Bxd5,Rxd5,Rxa4', 'https://lichess.org/training/XKeZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XkfQC', 'Rapid', 'chess32138', 1811, 'Pruchno', 1768, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,d6,e3,O-O,Be2,Nc6,Nf3,e5,d5,Ne7,Qc2,c6,O-O,cxd5,cxd5,Qa5,e4,h6,Bh4,g5,Bg3,Nh5,Nb5,Qb6,Nc3,Nxg3,hxg3,f6,b3,h5,Nd2,h4,gxh4,gxh4,Nf3,h3,g3,Bh6,Kh2,Rf7,Nh4,Rg7,Qd1,Ng6,Nxg6,Rxg6,Bh5,Rg7,Qf3,Qd8,Rac1,Rg5,Nb5,Rg7,Rc3,a6,Na3,b5,Nc2,Kh8,Ne3,Qe7,Ng4,Bg5,Ne3,Bd7,Nf5,Bxf5,Qxf5,Qd7,Qf3,Rc8,Bg4', 'Rxc3,Qxc3,Qxg4', 'https://lichess.org/training/XkfQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XkfUJ', 'Classical', 'Sujet', 1820, 'JediDale', 1827, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,Nf3,d6,e3,c6,Be2,Nbd7,e4,h6,Be3,Qa5,O-O,e5,d5,c5,Nb5,Qb6,Bd3,a6,Nc3,Qxb2,Na4,Qa3,Bc1,Qb4,a3,Qa5,Bd2,Qd8,Qc1,Kh7,h3,Nh5,g4,Nf4,Bxf4,exf4,Qxf4,Bxa1,Rxa1,Qf6,Qxf6,Nxf6,e5,Nxg4,hxg4,Bxg4,Kg2,b6,exd6,Rad8,Ne5,Bh5,Nxb6,Rxd6,Nbd7,Re8,f4,f6,Nxc5,fxe5,Re1,e4,Nxe4,Kg7,Nxd6,Rxe1,Kf2,Rd1,Ke3,Bg4,c5,Rc1,c6,h5,Bxa6,h4,c7,h3,Bf1,h2,Bg2,Rc3+,Kd4,Rg3,Bh1,Bd7,c8=Q,Bxc8,Nxc8,Rg1,Be4,Re1,Bg2,Rg1,Be4,Re1,Bf3,Rf1,Be4,Rg1,d6,Rf1,Ke5,Rd1,Nb6', 'Re1,Kd4,Rxe4+', 'https://lichess.org/training/XkfUJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XkHde', 'Classical', 'ElJoj', 1802, 'alik27', 1824, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Be7,e3,O-O,b3,b6,Bb2,Bb7,cxd5,exd5,Bd3,Nbd7,O-O,c5,Rc1,h6,Ne2,Re8,Ng3,Rc8,Re1,cxd4,Rxc8,Qxc8,Nxd4,Bc5,Ndf5,Ne4,Qg4,g6,Nxh6+,Kf8,Ngf5,gxf5,Bg7+,Ke7,Qh4+,Ke6,Nxf5,Kxf5,g4+,Ke6,f3,Qd8,Qh6+,Nef6,g5,Rg8,Kh1,d4,exd4+,Kd5,Be4+,Nxe4', 'fxe4#', 'https://lichess.org/training/XkHde');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xkhia', 'Rapid', 'khairinasir', 1991, 'Buragas23', 2262, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,d6,Nf3,O-O,d3,e5,O-O,c6,e3,Re8,Ne2,Nbd7,Rb1,a5,Nd2,Nc5,Nb3,Ne6,h3,Bd7,f4,Qb6,fxe5,dxe5,Kh2,Rad8,d4,a4,c5,Qa6,Nd2,exd4,exd4,Nh5,Ne4,Nc7,Nf4,Nxf4,Bxf4,Nd5,Nd6,Re2,Kh1,a3,bxa3,Nc3,Qb3,Nxb1,Qxf7+,Kh8,Rxb1,Rxg2,Be5,Bxe5,dxe5,Rf2,Qxf2,Qd3,Nf7+,Kg8,Nh6+,Kg7,Rf1,Qe4+,Kh2,Bf5,Nxf5+,gxf5,Qxf5', 'Rd2+,Rf2,Qxf5', 'https://lichess.org/training/Xkhia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xKHqY', 'Classical', 'Vitalii1975', 1795, 'stevy', 1870, 'e4,d5,exd5,Nf6,Bc4,Nxd5,d3,Nb6,Bb3,Nc6,h3,e5,Nf3,Bd6,Nc3,O-O,O-O,Na5,Ne4,Nxb3,axb3,Nd5,c4,Nb4,Bg5,f6,Bd2,Nc6,c5,Be7,b4,Qxd3,Re1,Bf5,Re3,Qd7,Ng3,Bg6,Nh4,Rad8,Qb3+,Bf7,Qd1,Qxd2,Qg4,Rfe8,Ngf5,Bf8', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/xKHqY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XKKRG', 'Rapid', 'Egemu', 1904, 'NEKADROBOM', 1893, 'e4,g6,Nf3,Bg7,Bc4,d6,d4,Bg4,h3,Bxf3,Qxf3,e6,Be3,Nc6,c3,a6,a4,Nge7,O-O,b5,axb5,axb5,Rxa8,Qxa8,Bxb5,O-O,Nd2,Na5,Re1,c6,Bd3,Qb8,Bg5,Qc7,Qg3,e5,d5,cxd5,exd5,Nxd5,Ne4,Nf4,Rd1,f5,Bxf4,fxe4,Bxe4,exf4,Qd3,Be5,Qd5+,Kg7,b4,Nc4,Ra1,Bxc3,Ra6,Nb6,Qa5,Bd4', 'Ra7,Rf7,Rxc7', 'https://lichess.org/training/XKKRG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xklmj', 'Rapid', 'cplyakap1905', 2201, 'BloodBear', 2132, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,e4,Bxc3,Bxc3,Nxe4,Bd3,Nxc3,bxc3,d6,Qh5,g6,Qh6,Qf6,Nf3,Qg7,Qh4,Nd7,O-O-O,c5,Kc2,cxd4,Nxd4,Ne5,f4,Nxd3,Rxd3,Bd7,Nb5,Bxb5,cxb5,Rac8,Rc1,d5,Kb3,Rc4,g3,Rfc8,a4,d4,Qe7,dxc3', 'Rd8+,Rxd8,Qxd8+,Qf8,Qxf8+,Kxf8,Kxc4', 'https://lichess.org/training/Xklmj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xklq6', 'Rapid', 'maxchan22', 1785, 'Nonsio', 1779, 'e4,g6,h4,Bg7,h5,Nc6,hxg6,fxg6,Nc3,Bxc3,dxc3,e5,Nf3,Nf6,Bg5,d6,Qd2,Be6,a3,Qe7,O-O-O,O-O-O,Qe3,Rdf8,Bb5,Bd7,Bxc6,Bxc6,Qxa7,Qe6,Qa8+,Kd7,Qa5,Nxe4', 'Nxe5+,Qxe5,Qxe5', 'https://lichess.org/training/xklq6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xkMJJ', 'Classical', 'albert5022008lobeiko', 1891, 'VlaSPol', 1896, 'd4,c6,c4,d5,Bf4,Bf5,e3,e6,Bd3,Bxd3,Qxd3,dxc4,Qxc4,Qd5,Nd2', 'Qxg2,O-O-O,Qxh1', 'https://lichess.org/training/xkMJJ');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 38;
-    }
-
-}
\ No newline at end of file
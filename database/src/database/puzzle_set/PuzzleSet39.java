@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet39 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XkOIw', 'Rapid', 'Ch3ssMates', 1705, 'Kubrickesque', 1670, 'd4,d5,c4,c5,e3,e6,Nf3,Nc6,Nc3,cxd4,Nxd4,Nxd4,exd4,Bb4,a3,Be7,Bf4,Qb6,Nb5,Bd8,Qa4,Bd7,Nd6+', 'Qxd6,Bxd6,Bxa4', 'https://lichess.org/training/XkOIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XKPJr', 'Blitz', 'Haditala1', 2207, 'FM FIRDAUSMAKSUM_FM', 2341, 'e4,e5,Nf3,Nc6,Bc4,g6,d4,exd4,Nxd4,Bg7,Nxc6,bxc6,O-O,Ne7,f4,d5,exd5,cxd5,Bb3,c6,Re1,O-O,Nc3,Be6,Be3,a5,Bf2,Nf5,a4,Rb8,Qd3,Re8,g4,Nd6,Bc5,Bxg4,Rxe8+,Nxe8,Re1,Bf5,Qa6,Bf8,Bd4,c5,Nxd5,cxd4', 'Rxe8,Qxe8,Nf6+,Kg7,Nxe8+', 'https://lichess.org/training/XKPJr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xkQsi', 'Rapid', 'rimonroshdy', 1963, 'Amit_laddha2781', 1962, 'e4,e5,a3,Nc6,Nc3,Nf6,h3,Be7,Nf3,O-O,g4,d6,Bc4,h6,d3,Nd4,g5,hxg5,Bxg5,c6,h4,Nxf3+,Qxf3,b5,Ba2,Be6,O-O-O,a5,h5,Bg4,Qg3,Bxd1,Nxd1,b4,a4,d5,h6,g6,exd5,Nxd5,h7+,Kh8,Bh6,Re8,Qxe5+,Bf6,Qg3,Qe7,Ne3,Nxe3,Bxe3,Rf8,Bc4,c5,Qf3,Rad8,Qc6,Qe5,Bxc5,Qxb2+,Kd1,Qb1+,Kd2,Bc3+,Ke3,Qxc2,Bxf8,Rxf8,Rh3,Qd2+,Kf3,Qg5,Qe4,f5,Qf4,Qf6,Kg2,g5,Qe3,f4,Qe6,Qd8,Rh5,f3+,Kf1,Qe8', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/xkQsi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XkRUQ', 'Rapid', 'Alex_Gorik', 1817, 'alireza5848', 1780, 'e4,c5,f4,Nc6,b3,e6,Bb2,a6,Nf3,b5,c4,b4,d4,cxd4,Nxd4,Bb7,Bd3,Nh6,h3,Bc5,Nf3,O-O,Qd2,f5,Ng5,e5,exf5,exf4,Qxf4,Re8+,Kd1,d5,Nd2,dxc4,Bxc4+,Kh8,f6,Bd4,fxg7+,Bxg7,Bxg7+,Kxg7,Ne6+,Rxe6,Bxe6,Qf6,Qxf6+,Kxf6,Bd5,Rd8,Bxc6,Bxc6,Kc2,Nf5,Rhf1,Kg6,Nf3,Ne3+,Kb2,Nxf1,Rxf1,Be4,Ne5+,Kg7,Rf2,Rd5,Nc6,a5,a3,Rc5,Nd4,Rc3,axb4,axb4,Nb5,Rg3,Nd6,Bg6,Kc1,Rxb3,Rb2,Rc3+,Kd1,b3,Kd2,Rg3,Ke1,Bc2,Kf2,Rg6,Nc4,Ra6,Ne3,Ra2', 'Rxa2,bxa2,Nxc2', 'https://lichess.org/training/XkRUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xKs8Y', 'Blitz', 'David246', 2227, 'Vzif', 1943, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,c6,Nf3,O-O,Qc2,h6,Bh4,b6,Ne5,Bb7,Bd3,Nbd7,f4,Nxe5,fxe5,Ne8,Bxe7,Qxe7,cxd5,cxd5,O-O,f5,Rac1,Rc8,Qa4,a5,Nb5,Rxc1,Rxc1,Qg5,Re1,Ba6,Qb3,f4,exf4,Rxf4,Nd6,Bxd3,Qxd3,Nxd6,exd6,Qd8,Rxe6,Qh4,d7', 'Qf2+,Kh1,Qf1+,Qxf1,Rxf1#', 'https://lichess.org/training/xKs8Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xksi4', 'Rapid', 'Hrosales', 1622, 'r2d4check', 1612, 'e4,c5,c3,e6,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d5,exd5,cxd5,d4,Bb7,Bf4,Bd6,Be5,Bxe5,Nxe5,c4,Re1,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/Xksi4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xKTCO', 'Classical', 'MallemNaveen', 1930, 'chanti4chess', 1884, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Be3,Bb4,Ne2,Ne7,a3,Bxc3+,bxc3,O-O,Ng3,Bg6,h4,f6,h5,Bf5,Nxf5,Nxf5,Bf4,Nd7,g4,Ne7,h6,g6,Qe2,f5,gxf5,Nxf5,Bh3,Qh4,Qg4,Qxg4,Bxg4,Nxd4', 'cxd4,Rxf4,Bxe6+', 'https://lichess.org/training/xKTCO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xkuiV', 'Blitz', 'caro_is_love', 1979, 'yptb', 2342, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Nxe4,Nxe4,d5,O-O,dxc4,b3,cxb3,axb3,Bg4,h3,Bh5,Ng3,Bg6,Re1,f6,d4,Bb4,Bd2,Bxd2,Qxd2,O-O,d5,Ne7,c4,b6,Rad1,Nc8,h4,Nd6,h5,Bf7,Ne4,Bxh5,Re3,Nxe4,Rxe4,Bxf3,gxf3,Qd7,Rh4,Qf5,Kh2,a5,Rg1,Kf7,d6,Rad8', 'Qd5+,Qe6,Rxg7+,Kxg7,Qxe6', 'https://lichess.org/training/xkuiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xkuLq', 'Bullet', 'GM chesswarrior04', 2821, 'GM AnishOnYoutube', 2844, 'c4,c6,Nc3,d5,cxd5,cxd5,d4,Nc6,Nf3,Nf6,Bf4,Bf5,e3,e6,Bb5,Bb4,Bxc6+,bxc6,O-O,O-O,Ne5,Rc8,Na4,Nd7,Nxd7,Qxd7,a3,Be7,Rc1,f6,Nc5,Bxc5,Rxc5,Qe7,Qa4,e5,Bg3,exd4,exd4,Bd3,Rfc1,Bb5,Qb3,Rfe8,h3,a6,a4,Bc4,Qc3,Kh8,b3,Be2,Rxc6,Rxc6,Qxc6,Qe4,Re1,h5,b4,Re7,b5,axb5,axb5,Re6,Qc8+,Kh7,b6,Rxb6,Qc3,Rb1,Rxb1,Qxb1+,Kh2,Qd3,Qc1,Qd1,Qe3,Bd3,Bd6,Bg6,Bf8,Qd3', 'Qe7,Bf7,Qxf7', 'https://lichess.org/training/xkuLq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XkUsI', 'Classical', 'Quetere', 1955, 'a1y1s1', 1977, 'd4,e6,c4,d5,Nf3,dxc4,g3,c6,a4,a6,a5,Ra7,Bg2,b5,axb6,Qxb6,O-O,Bd6,Nc3,Nf6,e4,Bb4,e5,Nd5,Ne4,h6,Bd2,Be7,Qc1,a5,Qxc4,Ba6,Bxa5,Qb7,Qc2,Bxf1,Bxf1,O-O,b3,Nb4,Qc4,c5,dxc5,N8c6,Bxb4,Rxa1,Bc3,Rc1,Nd6,Qb8,b4,f6,Qxe6+,Kh7,Bd2,Rd1,Kg2,f5,Bd3,Bxd6,Bxf5+,Rxf5,Qxf5+,Kh8,exd6,Nxb4,Bxb4,Qxb4,Qe5,Qa4,Nh4,Qc6+,Kh3,Rd5,Ng6+,Kh7,Ne7', 'Qd7+,Qf5+,Rxf5', 'https://lichess.org/training/XkUsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xkuX8', 'Classical', 'invachess90', 1877, 'prsteele', 1845, 'e4,e6,d4,d5,Nc3,c5,exd5,cxd4,Qxd4,exd5,Bb5+,Nc6,Qxd5,Qxd5,Nxd5,Bd6,Bf4,Bxf4,Nxf4,Ne7,O-O-O,a6,Bxc6+,bxc6,Nf3,O-O,Rhe1,Ng6,Nxg6,fxg6,Re7,Bg4,Rd3,Bxf3,Rxf3,Rxf3,gxf3,Rf8,Re3,h5,Kd2,Rf6,Kc3,g5,h3,Kf7,Kd4,Kg6,Ra3,Kf5,Rxa6', 'c5+,Kxc5,Rxa6', 'https://lichess.org/training/xkuX8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XkuxU', 'Rapid', 'f_s_t', 1701, 'KarlLibnex', 1727, 'd4,g6,c4,e6,Nc3,c5,e3,cxd4,exd4,Bg7,Nf3,Nc6,Be2,d5,c5,Qf6,Be3,Nh6,O-O,Nf5', 'Bg5,Qxg5,Nxg5', 'https://lichess.org/training/XkuxU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xkvf4', 'Rapid', 'Canarboiteu', 1761, 'pisgemici', 1756, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Bc4,Qf6,Qxf6,Nxf6,Nc3,Bc5,O-O,d6,Re1,Ng4,Be3,Bxe3,fxe3,O-O,Bd5,Rb8,Nb5,Be6,Nxc7,Bxd5,Nxd5,Rfe8,h3,Ne5,Rad1,Nc4,b3,Na3,Nc7,Rxe4,Rxd6,Nxc2,Red1,g6,Rd8+,Rxd8,Rxd8+,Kg7,Ne8+,Kh6,Nd6,Rxe3,Nc4,Re2,Rd7,Kg7,Rxa7,Nd4,Nxb6,Nb5,Ra5,Nc3,a4,Rb2,Rc5,Rxb3,a5,Ra3,a6,Ne4,Nc4', 'Ra1+,Kh2,Nxc5', 'https://lichess.org/training/Xkvf4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xKVRB', 'Blitz', 'Pronovost', 1723, 'aptal123', 1760, 'c4,e6,Nc3,c6,d4,Bb4,Nf3,Bxc3+,bxc3,d5,e4,dxe4,Ne5,Nd7,Bf4,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/xKVRB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XKwJe', 'Rapid', 'hussam8', 1621, 'Quetzalc', 1703, 'd4,e5,dxe5,Nc6,Nf3,d6,h3,Bd7,exd6,Bxd6,Nc3,Bb4,Bd2,Qe7,a3,Ba5,e3,O-O-O,Bb5,Nf6,b4,Bb6,Qe2,Rhe8,Na4,a6,Nxb6+,cxb6,Bc4,b5,Bb3,Ne4,O-O,Nxd2,Nxd2,Nd4,Qd3,Nxb3,Qxb3,Qg5,Kh1,Re6,Nf3,Qh5,Qc3+,Bc6,Nd4,g5,Nxe6', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/XKwJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XKxD3', 'Blitz', 'FM nemtsevguru', 2371, 'pazz84', 2200, 'd4,e6,Bf4,d5,Nf3,f5,e3,Nf6,c4,Be7,Nc3,O-O,Bd3,c6,O-O,Ne4,h3,Nd7,Qc2,g5,Be5,g4,hxg4,fxg4,Nd2,Nxe5,dxe5,Nxd2,Qxd2,dxc4,Bxh7+,Kxh7,Qe2,Rg8,Qxc4,Qf8,f4,g3,Qd3+,Kh8,e4,Qh6,Rf3,Bc5+,Kf1,Qh1+,Ke2,Qxg2+,Kd1,Bb6,Rc1,Rd8,Nd5,cxd5,Rxg3,Qh1+', 'Kc2,Qh2+,Kb1', 'https://lichess.org/training/XKxD3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XKXlQ', 'Rapid', 'meshaczulu', 1996, 'cleverbutverycareful', 1996, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,e3,O-O,h3,h6,Bh4,Nbd7,Nf3,c6,Bd3,b6,O-O,Ba6,b3,dxc4,bxc4,c5,Re1,cxd4,exd4,Rc8,Nb5,Bxb5,cxb5,Nh5,Bxe7,Qxe7,Qe2,Nhf6,Ne5,Nxe5,dxe5,Nd5,Qe4,g6,f4,Qh4,Rf1,Rfd8,Rad1', 'Nc3,Qf3,Nxd1', 'https://lichess.org/training/XKXlQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xKXro', 'Rapid', 'mate_n_2', 1646, 'hac2803', 1674, 'e4,Nc6,Nf3,e5,c3,Bc5,b4,Bb6,d4,exd4,b5,Nce7,cxd4,d5,Bd3,Bg4,Be3,Nf6,O-O', 'dxe4,Bxe4,Nxe4', 'https://lichess.org/training/xKXro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xKXW3', 'Rapid', 'Harold1991', 1913, 'Night_Gryphon', 1850, 'b3,e5,Bb2,Nc6,e3,d5,Nf3,Bd6,c4,d4,exd4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,O-O,Bc2,Re8+,Kf1,Bg4,f3,Bc8,Nc3,Bc5,Na4,Bd4,h4,c5,Rb1,Bd7,Nc3,c6,g4,Nxg4,fxg4,Qf6+,Kg2,Qf2+,Kh3,Bxc3,Bxc3,Re2,Qg1', 'Qf3+,Qg3,Bxg4#', 'https://lichess.org/training/xKXW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XkywF', 'Blitz', 'mingazzini', 1687, 'ATMaster', 1805, 'e4,e6,Nf3,Nc6,d4,d5,exd5,exd5,Bb5,Nf6,Bxc6+,bxc6,O-O,Be7,Re1,O-O,h3,Ne4,Nbd2,f5,Nxe4,fxe4,Nh2,Ba6,Be3,Bg5,Bxg5,Qxg5,Qg4,Qf6,c3,Qxf2+,Kh1,Rf6,Qd7,Qxb2,Ng4,Rg6,Rg1,Bc8,Qxc7,Qxc3,Raf1,Bxg4', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/XkywF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XkZCd', 'Rapid', 'miroslavg', 1867, 'ivox100', 1971, 'd4,d5,c4,Nf6,Nc3,Bf5,Nf3,e6,Qb3,b6,cxd5,exd5,Bg5,c6,Bxf6,Qxf6,e3,Bd6,Be2,O-O,O-O,Nd7,Rac1,Rad8,Na4,Bc7,Ba6,Qh6,Bb7,Be4,Rxc6,Bd6,Ne5,Qh5,Rxd6,Nxe5,Rxd8,Rxd8,dxe5,Qg5,f3,Bf5,Bxd5,Bh3,f4,Qg6,Kf2,Be6,Bxe6,Rd2+,Ke1,Qxg2,Bxf7+,Kh8,Qc4,Rc2,Qd3', 'Rc1+,Qd1,Rxd1+,Kxd1,Qxf1+', 'https://lichess.org/training/XkZCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xKzEn', 'Blitz', 'Fritzka', 2340, 'SouthAfricanPotato', 2336, 'e4,c5,b3,g6,Bb2,Nf6,e5,Nd5,Bc4,Nb6,e6,f6,exd7+,Bxd7,Bd3,Bc6,Nf3,e5,Qe2,Bg7,Nc3,O-O,O-O-O,a5,h4,a4,h5,axb3,hxg6,bxc2,Bc4+,Nd5,Nxd5,Bxd5,Kxc2,Nc6,gxh7+,Kh8,Nh4,Qe8,Bxd5,Nb4+,Kb1,Nxd5,Qe4,Ne7,Qxb7,Qf7,Qxe7,Qxa2+,Kc1,Qc4+,Kb1,Qa2+,Kc1,Qc4+,Kb1,Qd3+,Kc1,Rfb8,Qf7', 'Ra1+,Bxa1,Rb1#', 'https://lichess.org/training/xKzEn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xl2f2', 'Rapid', 'sobti16', 1727, 'Aleksandr74', 1797, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,h3,Bd6,Bd3,O-O,O-O,Be6,Be3,Nbd7,Nc3,a6,Ne2,c5,dxc5,Nxc5,Nf4,Qc7,Qd2,Nfe4,Qc1,Rac8,Nd4,Bxf4,Bxf4,Qb6,Qe3,Qxb2,Rfb1,Qc3,a3,Rfe8,Rb4,b5,Rab1,Qxa3,g4,Nc3,R1b2,Nd1', 'Bxh7+,Kxh7,Qxa3', 'https://lichess.org/training/Xl2f2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xl2l5', 'Bullet', 'il2t', 2121, 'FM Sandstad', 2156, 'c4,Nf6,Nc3,e6,e4,d5,e5,Ne4,Nxe4,dxe4,Qg4,f5,exf6,Qxf6,Qxe4,Nc6,Nf3,Bc5,Be2,O-O,O-O,Bd7,d3,Rae8,Rb1,Nd4,Nxd4,Qxd4,Qxd4,Bxd4,Be3,e5,Bxd4,exd4,Bf3,b6,b4,Rf5,Rfe1,Rfe5,Kf1,Rxe1+,Rxe1,Rxe1+,Kxe1,c5,a3,Kf7,Ke2,Kf6,bxc5,bxc5,Be4,h6,Kf3,Ke5,Kg3,Bc8,f4+,Kf6,Kh4,Bd7,g4,g5+,fxg5+,hxg5+,Kg3,Ba4,h4,Bd1,h5,Be2,Bf5,Bd1,h6,Kf7,Kf2,Kg8,Ke1,Ba4,Ke2,Kh8,Kf3,Bc6+,Be4,Be8,Bf5,Bc6+,Ke2,Be8,Kd2,Ba4,Kc1,Bb3,Kb2,Ba4,h7,Kg7,Be4,Kh8,Kc1,Kg7,Kd2,Be8,Kc2,Ba4+,Kd2,Bd7,Ke2,Kh8,Bf5', 'Bxf5,gxf5,Kxh7,Kf3,Kg7', 'https://lichess.org/training/Xl2l5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xL8VK', 'Rapid', 'Canarion47', 1949, 'ariel_the_lion', 1853, 'd4,e6,c4,d5,Nc3,dxc4,e4,Bb4,Bxc4,Bxc3+,bxc3,Nf6,e5,Nd5,Ba3,Nxc3,Qg4,g6,Bb4,Nd5,Bd2,h5,Qg3,Nc6,Ne2,Nce7,Bg5,Qd7,a4,Nf5,Qh3,Nb6,Bb3,Nxd4,Rd1,c5,a5,Nd5,Nxd4,cxd4,Rxd4,Qb5', 'Ba4,Qxa4,Rxa4', 'https://lichess.org/training/xL8VK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xlade', 'Classical', 'JoaoBrasil', 1698, 'derschoenepernhard', 1791, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,h3,Bxf2+,Kxf2,Nxe4+,dxe4,Qxd1,Bd2,Qxc2,a4,Qxe4,Nc3,Qd4+,Be3,Qf6+,Kg1,O-O,Be2,Re8,Bf2,Bf5,Bf3,Rad8,Kh2,Qd6+,Bg3,Qd2,Bxc7,Rc8,Bg3,Qxb2,Rac1,Re3,Nd5,Ree8,Nf4,h6,Rcd1,Re3,Rhf1,Qc2,Rd4,g5,Nh5,Bg6,Nf6+,Kg7,Ng4,Rce8,Nxe3,Rxe3,Rd7,Qxa4,Rxb7,Qa6,Rxf7+,Kxf7', 'Be2+,Kg8,Bxa6', 'https://lichess.org/training/xlade');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XlAgl', 'Rapid', 'napiher', 1793, 'Motobecane', 1900, 'c3,d5,c4,d4,Nf3,Nc6,b3,g6,Bb2,Bg7,e3,e5,Na3,a6,exd4,Nxd4,Nxd4,exd4,Be2,Nf6,d3,O-O,O-O,b6,Bf3,Rb8,Re1,c5,b4,Qc7,b5,a5,Nc2,Bb7,Bxb7,Rxb7,Qf3,Nd7,Rad1,Ne5,Qe4,Rbb8,Nxd4,cxd4,Bxd4,Rfe8,Qf4,Re7,Re2,Rbe8,Rde1,Nxd3', 'Qxc7,Rxe2,Rxe2', 'https://lichess.org/training/XlAgl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XLbXs', 'Rapid', 'Maria1121', 1938, 'Infi1830', 1947, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,d4,a6,e4,e6,Nf3,Nc6,Be2,Bb4,O-O,Nf6,Bg5,O-O,e5,Be7,exf6,Bxf6,Bxf6,Qxf6,Qc2,b6,d5,Nb4,Qb3,Nxd5,Nxd5,exd5,Qxd5,Be6,Qe5,Qe7,Bc4,Rfe8,Bxe6,fxe6,Rac1,c5,Rfe1,Rad8,Ng5,Rd6,Rcd1,Rxd1,Rxd1,h6,Nh3,Kf7,Nf4,g5,Nh5,Kg6,g4,Rf8,Rd6,Re8,Rxe6+,Qxe6', 'Qg7#', 'https://lichess.org/training/XLbXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xlcxW', 'Rapid', 'lunemberg79', 1975, 'Andrey2888', 1951, 'e4,e5,Bc4,b5,Bxb5,c6,Be2,d5,d3,Nf6,exd5,cxd5,Nd2,Bc5,Ngf3,Bxf2+,Kxf2,Ng4+,Kg3,e4,dxe4,Qd6+,e5,Qb6,Qe1,h5,h3,h4+,Nxh4,Rxh4,Kxh4,g5+,Kg3,Qe3+,Bf3', 'Qf4#', 'https://lichess.org/training/xlcxW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xldfp', 'Rapid', 'Marioiko', 1847, 'Minardo', 1760, 'c4,e5,Nc3,Nf6,f3,c6,e4,d5,cxd5,cxd5,exd5,Nxd5,Nxd5,Qxd5,Ne2,Nc6,Nc3,Qd8,Bb5,Bd7,O-O,Bc5+,Kh1,O-O,Ne4,Be7,d3,a6,Ba4,b5,Bb3,Nd4,Be3,Bc6,Rc1,Rc8,Qd2,Nxb3,axb3,Bxe4,dxe4,Qxd2,Bxd2,Rfd8,Rxc8,Rxc8,Rc1,Rxc1+,Bxc1,f6,Be3,Kf7,Kg1,Ke6,Kf2,g5,Ke2,Bb4,Kd3,Kd6,h3,Bc5,Bxc5+,Kxc5,Kc3,b4+,Kd3,h5,Ke3,h4,Kd3,a5,Ke3,Kb5,Kd3,a4', 'bxa4+,Kxa4,Kc4', 'https://lichess.org/training/Xldfp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xldpu', 'Classical', 'Mamrezo', 1647, 'nicolaubr', 1623, 'c4,e5,d3,f5,Bd2,Nf6,Bg5,Be7,g3,c6,Nd2,d5,cxd5,cxd5,Bg2,Nc6,Rc1,Be6,a3,Qb6,Qc2,Ng4,Be3,Nxe3,fxe3,Qxe3,Ngf3,Nd4,Nxd4,Qxd4,Nf3,Qb6,Nxe5,O-O,b4,Bg5,Rb1,Rac8,Qa4,Qe3,Nd7,Bxd7,Qxd7,Rfe8,Bxd5+,Kh8,Bf3,Rcd8,Qxf5,Rxd3,Rf1,Red8,h4,Rd1+,Rxd1', 'Rxd1+,Kxd1,Qc1#', 'https://lichess.org/training/xldpu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xlepg', 'Rapid', 'Xmuryi', 2089, 'sinanilter', 1835, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Be6,Bxe6,fxe6,Be3,e5,Qd5,Qc8,O-O-O,Nf6,Qd3,Be7,f4,O-O,f5,c6,h3,Qd7,g4,b6,Rhg1,Rad8,g5,hxg5,Bxg5,Nh7,Bd2,Nf6,Rg6,Rf7,Rdg1,d5,Qg3,Bf8,Bh6,dxe4,Bg5,e3', 'Bxf6,Rxf6,Rxf6', 'https://lichess.org/training/Xlepg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xLF67', 'Blitz', 'kaumachess', 1827, 'Spiridon', 2062, 'f4,e5,fxe5,d6,Nf3,g5,e3,g4,Ng1,dxe5,Bc4,Nc6,Ne2,Qh4+,Ng3,Be6,Bxe6,fxe6,O-O,O-O-O,d3,Nh6,Nc3,Bc5,Nce4,Bb6,Qe2,Rhf8,Bd2,Nf5,a3,Ncd4,exd4,Nxd4,Qd1', 'Nf3+,Kh1,Qxh2#', 'https://lichess.org/training/xLF67');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xlfnP', 'Classical', 'Rayr511', 1722, 'ar96', 1716, 'e4,e5,d4,exd4,c3,g6,Bc4,c6,Nf3,Be7,Qxd4,Bf6,e5,Bg7,O-O,Ne7,Bxf7+,Kxf7,Ng5+,Kf8', 'Ne6+,dxe6,Qxd8+', 'https://lichess.org/training/xlfnP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XlfoZ', 'Rapid', 'PaulJoubert', 2150, 'cerg-61', 2042, 'g3,d5,Bg2,e5,d3,Nc6,Nf3,Bd6,O-O,Be6,Nbd2,Nge7,e4,d4,c3,Bc5,Nb3,Bb6,a4,a6,a5,Ba7,cxd4,Bxd4,Nfxd4,exd4,Nc5,O-O,Nxb7,Qb8,Nc5,Qb5,Qc2', 'Nb4,Qe2,Qxc5', 'https://lichess.org/training/XlfoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XlFR8', 'Rapid', 'KERAMAT87', 1943, 'sakarep3', 2067, 'e4,Nc6,d4,d5,e5,Bf5,f4,Qd7,Nf3,O-O-O,c3,f6,Be3,Nh6,h3,Kb8,g4,Be4,Nbd2,Nf7,Nxe4,dxe4,Nd2,fxe5,fxe5,h5,Bg2,hxg4,Qxg4,Qxg4,hxg4,Rxh1+,Bxh1,Nh6,Bxh6,gxh6,Bxe4,e6,Bxc6,bxc6,O-O-O,Be7,Ne4,Rh8,Rh1,Rg8,Rxh6,Kc8,Rxe6,Kd7,Nf6+,Kxe6,Nxg8,Bg5+,Kc2,Kf7,Nf6,Ke6,Kd3,a6,Kc4,a5,Kc5,Bc1,b3,Bb2,c4,Kf7,Ne4,Ke6,g5,Kd7,g6', 'Ba3+,b4,Bxb4#', 'https://lichess.org/training/XlFR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XLg73', 'Classical', 'rrr34', 1692, 'gabriel_g5', 1889, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,h6,O-O,d6,Bd5,Bd7,d4,Bg4,Ne2,Bxf3,gxf3,Qd7,Ng3,Nxd4,Bxb7,Rb8,c3,Nxf3+,Qxf3,Rxb7,b3,Be7,Nf5,g6,Nxh6,c5,Bg5,d5,Bxf6,Bxf6,Qxf6,Rxh6,Qxe5+,Kd8,Rad1,Qg4+,Qg3,Qxg3+,fxg3,Kc8,exd5,f5,c4,Rbh7,Rf2,Rh5,a3,g5,Rxf5,Rxh2,Rf8+,Kb7,Rd3', 'Rh1+,Kf2,R7h2+,Kf3,Rf1+,Kg4,Rxf8', 'https://lichess.org/training/XLg73');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xLgCV', 'Rapid', 'stnmak', 1829, 'tercero123', 1819, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,cxd5,cxd5,a3,Be7,Bf4,a6,e3,Nbd7,h3,b5,Bd3,Bb7,O-O,Rc8,Rc1,O-O,Re1,Qa5,Ne5,b4,Nxd7,Nxd7,Qa4,Qxa4,Nxa4,bxa3,bxa3,Bxa3,Rb1,Bc6,Nb6,Nxb6,Rxb6,a5,Ba6,Bb4,Rc1,Bb7,Rxc8,Bxc8,Bb5,f6,Bd6,Bxd6,Rxd6,Kf7,Ba6,Ke7,Rb6,Bd7,Rb7,Kd6,Rb6+,Kc7,Rb7+,Kc6,Rb1,Ra8', 'Bb7+,Kd6,Bxa8', 'https://lichess.org/training/xLgCV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xlgsC', 'Classical', 'Manuel110', 1694, 'I_Ender', 1653, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,g6,O-O,Bg7,Na4,d6,d3,a6,Nc3,Nf6,a3,b5,Ba2,Bb7,Bg5,h6,Bxf6,Qxf6,Re1,Nd4,Nxd4,Qxd4,Rb1,Qe5,g3,O-O,f4,Qf6,Qg4,Qd8,a4,Qa5,e5,dxe5,fxe5,b4,Ne4,Qxa4,Bc4,Qc6,Re2,Bxe5,Qh4,Kg7,g4,f6,Rf1,f5,gxf5,exf5', 'Qe7+,Kh8,Qxe5+', 'https://lichess.org/training/xlgsC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xLhe2', 'Classical', 'babekaslan', 1831, 'the_lazy_one', 1832, 'e4,c5,Bc4,a6,Nf3,e6,d3,d5,exd5,exd5,Qe2+,Be7,Bb3,Nf6,h3,O-O,O-O,h6,Re1,Nc6,Nc3,Re8,a4,b5,axb5,Nd4,Nxd4,cxd4,Nb1', 'Bb4,Qxe8+,Nxe8', 'https://lichess.org/training/xLhe2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XLHUy', 'Rapid', 'A_Running_Kidling', 2125, 'Dokter-saeful118', 2084, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,h6,Bh4,O-O,e3,c6,Bd3,Nbd7,O-O,Nh7,Bxe7,Qxe7,Qc2,Ng5,Nxg5,Qxg5,e4,dxc4,Bxc4,b5,Bd3,e5,d5,cxd5,Nxd5,Ba6,Qc6,Nb6,Nxb6,axb6,Qxb6,Rfe8,a4,Re6,Qa5,Rg6,g3,Bb7,Qxb5,Ba6,Qd5', 'Rd8,Qxd8+,Qxd8', 'https://lichess.org/training/XLHUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xLibT', 'Blitz', 'Countryside', 2405, 'SolidAF', 2595, 'h4,e5,h5,d5,c3,Nc6,d4,Be6,dxe5,Nxe5,Bf4,Bd6,Nf3,Nxf3+,gxf3,Bxf4,Qa4+,Qd7,Qxf4,O-O-O,e3,Nh6,Nd2,f6,Nb3,Qe7,a3,Nf5,Qb4,Nd6,Bd3,c6,a4,Qc7,a5,Bf5,Be2,Nc4,Bxc4,dxc4,Qxc4,Bd3,Qb4,Rd5,c4,Rd6,Nc5,Bf5,Nxb7,Rd7,Nc5,Rdd8,Nb3,Rhe8,Qc5,Re5,Qb4,c5,Qc3,Qb7,Nd2,Rd3,Qc1,Re7,Ke2,Red7,Rd1,Be6,Qc2,Qb4,Rac1,Bf5,e4,Be6,b3,R3d4,Nf1,Qxa5,Rxd4,cxd4,Rd1,Qb4,Ng3,a5,Kf1,a4,bxa4,d3,Qd2,Qxa4,Kg2,Bxc4,Qc3,Kd8,Ra1,Qb5,Ra5,Qc6,Ra2,d2,Rxd2', 'Bf1+,Nxf1,Qxc3,Rxd7+,Kxd7', 'https://lichess.org/training/xLibT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XLiIS', 'Rapid', 'kamilaga', 1975, 'Lordul', 1994, 'e4,c5,Nf3,Nc6,Bc4,g6,d3,Bg7,Nc3,a6,a4,e6,Bf4,Nge7,Bd6,Qb6,Qc1,Nd4,Bxe7,Nxf3+,gxf3,Kxe7,Ke2,Rd8,h4,h5,f4,Bh6,Rb1,Qd6,Qe3,Bxf4,Qf3,Be5,Rhg1,b6,Rg2,Bb7,Rbg1,Rg8,Rg5,Bxc3,bxc3,b5,axb5,axb5,Bxb5,Ra2,Rc1,Rga8,Qe3,Ra1,Bc4,Rxc1,Qxc1,Qb6,Bb3,Qc7,Qe3,Ra5,Qd2,d6,c4,Ra1,Qf4,e5,Qe3,Bc8,Rg3,Qa5,Qg5+,Ke8,Qd2,Qa3,Ke3,Rh1,f4,Qa1,fxe5,Qd4+,Kf3,Rf1+,Kg2', 'Qg1#', 'https://lichess.org/training/XLiIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xlIWH', 'Rapid', 'KylianMbappe2019', 1807, 'aparker', 1801, 'e4,a6,Nf3,b5,d4,Bb7,Bd3,h6,d5,d6,a3,c5,Be2,Qa5+,Bd2,b4,c3,bxc3,Nxc3,Qc7,Rc1,Nd7,b4,g6,bxc5,Nxc5,Na4,Nf6,Be3,Nfxe4,Nd2,Bxd5,Nxe4,Bxe4,Bxc5,dxc5,Rxc5,Qb7,f3,Bf5,Qd4,f6,Nb6,Rd8,Qb4,e6,O-O,Bxc5+,Qxc5,Rh7,g4,Rc7,Qe3,Bc2', 'Qxe6+,Kf8,Qxf6+,Rf7,Qxd8+', 'https://lichess.org/training/xlIWH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xLJX8', 'Rapid', 'Ten1975', 1696, 'tinagero85', 1677, 'e4,e5,Nf3,d6,Nc3,f5,exf5,Bxf5,Nh4,Bd7,Nd5,c6', 'Qh5+,g6,Nxg6,Bg4,Qxg4', 'https://lichess.org/training/xLJX8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XLl2S', 'Rapid', 'apollo017', 1850, 'usadegh', 1788, 'e4,c5,Nf3,Nc6,Bb5,g6,d3,Bg7,Nc3,d6,Bg5,Bd7,Nd5,Nf6,Nxf6+,exf6,Bf4', 'Qa5+,Nd2,Qxb5', 'https://lichess.org/training/XLl2S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xLLh3', 'Rapid', 'Ignasi2014', 1640, 'Emphyrio', 1657, 'e4,e5,f4,exf4,Nf3,g5,h3,Nc6,c3,h6,d4,Bg7,e5,d6,Bb5,dxe5,Bxc6+,bxc6,Qe2,Qd6,Nbd2,Ne7,Nc4,Qe6,Nfxe5,Ba6,b3,Bxe5,dxe5,Bxc4,bxc4,Ng6,O-O,O-O,Re1,Rfe8,Qf3,Qxc4,Ba3,Nxe5,Qh5,Kg7,Rad1,Qxc3,Bc1,Qc5+,Kh2,Nd3,Rxe8,Rxe8,Rxd3,Qxc1,Rd7,Qc4,Rxc7,Qxa2,Rxc6,Qb3,Qxh6+,Kg8,Qxg5+,Kf8,Qh6+,Ke7,Qxf4,Qb8', 'Rc7+,Qxc7,Qxc7+', 'https://lichess.org/training/xLLh3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XlmPB', 'Rapid', 'DOGOVOR', 1607, 'AlexandrVas', 1648, 'e4,d6,Nf3,c6,d4,Nd7,Nc3,h6,Be3,g5,Bd3,Bg7,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,O-O,Nf6,f4,gxf4,Bxf4,Bxf4,Rxf4,Qb6+,Kh1,Qxb2,Ne4,Qe5', 'Nxf6+,exf6,Re4,Be6,Rxe5', 'https://lichess.org/training/XlmPB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xlOaY', 'Classical', 'couc', 1866, 'kare64', 1888, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,Bd6,Re1+,Ne7,Bg5,O-O,Ne5', 'f6,Nxc6,Nxc6', 'https://lichess.org/training/xlOaY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xlP1Q', 'Rapid', 'alirazi', 1915, 'Godzi2021', 1856, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,Nc3,Na5,Bb3,d6,h3,Nxb3,axb3,h6,Be3,Nh7,Qd2,f5,Bxh6,gxh6,Qxh6,Rf6,Qh5,Bd7,Ng5,Rh6,Qxh6,Bxg5,Qg6+,Kh8,Ne2,Qe7,f4,Rg8,Qh5,Be8,Qf3,exf4,Nxf4,Bxf4,Qxf4,Qg7,Qf2,f4,Ra2,Ng5,Kh2,Bd7,Qh4+,Nh7,Rf2', 'Qg3+,Qxg3,fxg3+,Kg1,gxf2+', 'https://lichess.org/training/xlP1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xlPnZ', 'Blitz', 'Bathousai507', 2164, 'CM nelsoncopa39', 1994, 'e4,d6,d4,Nf6,f3,e5,d5,g6,Bd3,Bg7,Be3,O-O,Ne2,Nbd7,Qd2,a5,c4,Re8,Nbc3,b6,h4,Nc5,g4,Nxd3+,Qxd3,Bd7,Ng3,c6,g5,Nh5,Nxh5,gxh5,Ne2,cxd5,cxd5,Rf8,Ng3,Rc8,Nxh5,f5,Nxg7,Kxg7,Rg1,fxe4,fxe4,Be8,Kd2,Bh5,Rac1,Qd7,Rxc8,Rxc8,Bxb6,Rb8,Qa6,Rb7,b3,Qf7,Rf1,Qd7,Rf6,a4,bxa4,Rb8,a5,Rc8,Rxd6,Qg4,Rc6,Rf8,Qb7+,Kg8,Kc3,Qe2,Rf6,Qe1+,Kb3,Bd1+,Ka3', 'Qc3#', 'https://lichess.org/training/xlPnZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xLQDC', 'Blitz', 'nietodonairedaniel', 2028, 'Gryffindor06', 2130, 'b3,d5,Bb2,Bf5,e3,e6,c4,Nf6,cxd5,exd5,d4,c6,Bd3,Bxd3,Qxd3,Bd6,Nf3,Nbd7,Nbd2,O-O,O-O,Re8,Rfe1,Ne4,Rac1,f5,Qc2,Ndf6,Nxe4,fxe4,Ne5,Qc7,f4,exf3,gxf3,Nd7,f4,Nf6,Kh1,Ne4,Rg1,Kh8,Qg2,Qe7,Rcf1,Rg8', 'Ng6+,hxg6,Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/xLQDC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XlSFv', 'Rapid', 'GeoffreyMB', 2030, 'RAHUL_VADLAKONDA', 1886, 'd4,d5,Nf3,c6,e3,e6,Bd3,Be7,O-O,Nf6,Nbd2,Nbd7,b3,Qc7,Bb2,a5,c4,Bd6,cxd5,exd5,Rc1,Nf8,Ne5,Ng6,f4,Bxe5,dxe5,Ng4,Qf3,Qb6,Bd4,c5,Bxc5,Qd8,Bb5+,Bd7,a4,Bxb5,axb5,b6,Bd6,Nh6,g3,Ne7,Bxe7,Qxe7,Qxd5,O-O,Rc6,Rfd8,Rd6,Nf5,Nc4,Nxd6,exd6,Qe8,e4,Qd7,e5,Rac8,Nxb6', 'Qa7,Qd4,Rb8', 'https://lichess.org/training/XlSFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xLul2', 'Classical', 'DrMazo', 1613, 'Midnightmare', 1727, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Nd5,d6,d3,Nf6,Ng5,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/xLul2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XlWMm', 'Rapid', 'Arman-1983', 1744, 'Majid77', 1744, 'e4,d5,exd5,c6,dxc6,e5,cxb7,Bxb7,Nf3,e4,Bb5+,Nc6,Qe2,Be7,Qxe4,Qb6,a4,Nf6,Qe2,O-O,O-O,Bc5,c3,Rfe8,Qd1,a6,Bxc6,Bxc6,d4,Bd6,b4,Qc7,Nbd2,Ng4,h3,Bxf3,Qxf3,Re6,hxg4,Bh2+,Kh1,Rh6,Ne4', 'Bg1+,Qh3,Rxh3+,Kxg1,Qh2#', 'https://lichess.org/training/XlWMm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xlxA2', 'Rapid', 'espinote', 1613, 'Lunar_Lamp', 1638, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Nc6,Qb3,e6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Ne4,Nf3,O-O,O-O-O,Nxf2,h4,Nxd1,Kxd1,Qd6,g4,e5,Kc1,Bxg4,Ng5,exd4,Nxf7,Qg3,Nh6+,Kh8,Nf7+,Kg8,Nh6+,Kh8,Nf7+,Rxf7,Bxf7,Qxe3+,Bd2,Qe7,Re1,Qc5+,Kb1,Ne5,Bf4,Nxf7,Qxf7,Rg8,Re8,Bf5+', 'Ka1,Rxe8,Qxe8+,Qf8,Qxf8#', 'https://lichess.org/training/xlxA2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xlZG2', 'Classical', 'blomqvist_peter', 1696, 'I_Am_First_Queen_One', 1711, 'c4,e5,Nc3,Nf6,g3,Nc6,Bg2,Bc5,e3,d6,Na4,Bb6,Nxb6,axb6,Ne2,Bg4,O-O,O-O,b3,Ra7,Bb2,Nb4,a3,Nd3,Bc3,Nc5,Re1,Nd3,Rf1,c6,h3,Bh5,Kh2,Re8,g4,Bg6,Nc1,d5,cxd5,cxd5,Nxd3,Bxd3,Re1,Qc7,Bf1,e4+,Kg2,Bxf1+,Rxf1,Qc6,Qe2,Nd7,Rfc1,Qg6,Qb5,Qe6,Bd4,Ra5,Qb4,Qg6,Rc7,Rd8,Rxb7,Qc6,Bxb6,Nxb6,Rxb6,Qa8,a4,Ra6,Rxa6,Qxa6,Rc1,Qe2,Qe7,Qf3+,Kg1,Rf8,Qh4,Qe2,Rc2', 'Qd1+,Kg2,Qxc2', 'https://lichess.org/training/xlZG2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xlzhS', 'Rapid', 'horux_m', 1901, 'baasoti', 1836, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Bc4,Nf6,Bb3,Bg4,f3,Bh5,Nge2,Nc6,O-O,O-O-O,d4,e6,Bf4,e5,dxe5', 'Qc5+,Kh1,Rxd1', 'https://lichess.org/training/xlzhS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xLzxs', 'Rapid', 'SpyAeternites', 1903, 'ARMAN95', 1835, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,Nf3,Be7,Bxf6,Bxf6,c5,a5,e3,b6,cxb6,Qxb6,Na4,Qb4+,Nd2,c5,Nxc5,Qxb2,Bb5+', 'Qxb5,Rb1,Qc6', 'https://lichess.org/training/xLzxs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xm2Gs', 'Rapid', 'steadyhand', 1763, 'W_FERZ_W', 1740, 'e4,e5,Nf3,Qf6,d4,exd4,Nxd4,Bc5,Be3,d6,Bc4,Be6,Nd2', 'Bxd4,Bxd4,Qxd4,Bxe6,fxe6', 'https://lichess.org/training/Xm2Gs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XM53W', 'Blitz', 'p45k41', 1716, 'bberat7', 1699, 'e4,e5,Nf3,Nc6,Be2,b6,c3,Bb7,d4,exd4,cxd4,Qe7,e5,O-O-O,d5,Nxe5,Bg5,f6,Bf4,Nxf3+,gxf3,g5,Bg3,h5,Nd2,h4,Bxc7,Kxc7,Qc2+,Kb8,Rc1,Bxd5,Qc7+,Ka8,O-O,Nh6,Ba6,Nf7', 'Qc8+,Rxc8,Rxc8#', 'https://lichess.org/training/XM53W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XM557', 'Blitz', 'MaxOrlik', 1697, 'Omar_Ezatt', 1712, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,Be7,c4,dxc4,Bxc4,O-O,Bd3,a6,Qc2,Nc6,Nbd2,Bd6,Bxd6,Qxd6,O-O-O,b5,Kb1,Nb4,Qb3,e5,dxe5', 'Qxd3+,Qxd3,Nxd3,exf6,Nxf2', 'https://lichess.org/training/XM557');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XM7p2', 'Blitz', 'lilicarepilica1', 1629, 'rton', 1899, 'e4,g6,d4,Bg7,c4,c5,d5,d6,Bd3,e6,Ne2,exd5,exd5,Nf6,Nbc3,O-O,O-O,Nbd7,h3,Ne5,Be3,Nxd3,Qxd3,Bf5,Qd2,Re8,Rfe1,Ne4,Nxe4,Rxe4,Rac1,Qh4,Ng3,Rxe3,Rxe3,Bh6,Nxf5,gxf5,Rg3+,Kf8,Qc2,Bxc1,Qxc1,Re8,Kf1,Re4,b3,Rd4,Rf3,f4,Qc2,Qg5,Qxh7,Qe5,Qc2,Re4,Qd2', 'Qa1+,Qe1,Rxe1#', 'https://lichess.org/training/XM7p2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xM8LA', 'Rapid', 'polylogarithmique', 1601, 'MooCrock', 1655, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,d3,d6,Bg5,h6,Bxf6,Qxf6,Qd2,Na5', 'Nd5,Qd8,Qxa5', 'https://lichess.org/training/xM8LA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmAaM', 'Rapid', 'zolight', 1720, 'yurechess', 1782, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,Nc6,O-O,e6,d4,cxd4,Nxd4,Be7,Nxc6,bxc6,Be3,e5,Bd3,O-O,h3,Be6,f4,exf4,Bxf4,Qb6+,Kh1,Qxb2,Ne2,Qb7,e5,dxe5,Bxe5,Nd5,Qd2,Qd7,Nf4,Bg5,c4,Nxf4,Bxf4,Bxf4,Rxf4,Rad8,Rd1,Bxh3,gxh3', 'Qxh3+,Qh2,Rxd3,Qxh3,Rxh3+', 'https://lichess.org/training/XmAaM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmBEh', 'Rapid', 'GAGIK_JAN', 2587, 'beast021', 2472, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,Nc6,Be3,g6,Qd2,Bg7,O-O-O,O-O,g4,Bd7,f3,Rc8,h4,h5,g5,Ne8,f4,b5,f5,Ne5,Nd5,Nc7,Kb1,Nxd5,exd5,Bxf5,Nxf5,gxf5,Bd3,Nc4,Bxc4,Rxc4,Rhf1,Qc8,Qd3,Rxh4,Rxf5,Qc4,Qd2,Qe4,Rff1,Qe5,c3,b4,Bd4,Qe4+,Ka1,bxc3,Bxc3,Bxc3,Qxc3,Rh2,g6,f6,g7,Kxg7', 'Qg3+,Qg4,Qxh2', 'https://lichess.org/training/XmBEh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xmBFg', 'Rapid', 'mickg2', 1767, 'faizbaroud', 1812, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Be7,O-O,Nf6,Re1,O-O,c3,Bb7,d4,exd4,cxd4,d6,Nbd2,Na5,Bc2,c5,d5,c4,Nf1,Bc8,Ng3,Bg4,h3,Bxf3,Qxf3,Nb7,Be3,Nc5,Bxc5,dxc5,Qf5,g6,Qf3,Re8,Rad1,Bf8,e5,Nd7,Qf4,Bg7,e6,fxe6,dxe6,Rf8,Qc1,Qf6,exd7,Qxf2+,Kh2,Rf3,Ne4,Be5+,Kh1', 'Rxh3+,gxh3,Qh2#', 'https://lichess.org/training/xmBFg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmCm9', 'Rapid', 'fymer', 1635, 'AdrumBaba', 1639, 'e4,e5,Bc4,Qf6,Nf3,Bc5,d3,h6,Nc3,c6,Be3,Bxe3,fxe3,g5,d4,d6,dxe5,dxe5,h3,g4,hxg4,Bxg4,Rh4', 'Bxf3,Qxf3,Qxh4+', 'https://lichess.org/training/XmCm9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xMdxZ', 'Blitz', 'SouthAfricanCheetah', 1978, 'FM Banelevich', 2209, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nbd7,g4,h6,Bxf6,Bxf6,Bg2,Qb6,Nb3,g5,fxg5,hxg5,Kb1,Be7,Rhf1,Ne5,Qg3,Bd7,Rd4,O-O-O,Rfd1,Kb8,Bf1,Rc8,h3,Ng6,Ne2,Bb5,Qf3,Ne5,Qg3,Qc7,Nc3,Bxf1,Rxf1,b5,a4,Nc6,axb5,Nxd4,Nxd4,Qc4,Rxf7,Qxd4,Rxe7,Rhf8,Rxe6', 'Rf1+,Ka2,Qc4+', 'https://lichess.org/training/xMdxZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XMDYr', 'Classical', 'Nigel4449', 1684, 'pandaamonium', 1670, 'g4,d5,Bg2,Bxg4,c4,e6,Qb3,Nf6,Qxb7,Nbd7,Nc3,dxc4', 'Qxa8,Qxa8,Bxa8', 'https://lichess.org/training/XMDYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xmEYE', 'Rapid', 'Master_vasbar', 2079, 'Snake-Mark', 1847, 'e4,e5,f4,exf4,Nf3,g5,Bc4,Bg7,O-O,Nc6,c3,d6,d4,Qe7,Nxg5,Qxg5,Bxf4,Qg6,e5,dxe5,Bxe5,Bxe5', 'Bxf7+,Qxf7,Rxf7', 'https://lichess.org/training/xmEYE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XMf87', 'Blitz', 'IM bravadochess', 2500, 'Random_BelieveSpace', 2382, 'c4,e6,Nc3,d5,e3,Nf6,Nf3,a6,b3,Nbd7,Bb2,b6,d4,Bd6,cxd5,exd5,g3,Bb7,Bg2,Qe7,O-O,O-O-O,a4,Ne4,Nxe4,dxe4,Nd2,f5,Nc4,h5,Qc2,h4,Rfc1,Kb8,Nxd6,Qxd6,Ba3,Qh6,Qxc7+,Ka8,a5,g5,Be7,hxg3,hxg3,Qh2+,Kf1,f4,axb6,f3,Rxa6+,Bxa6+,Ke1,Qg1+,Kd2,Qxf2+,Kc3,Rc8', 'b7+,Bxb7,Ra1+,Qa2,Rxa2+,Ba6,Rxa6#', 'https://lichess.org/training/XMf87');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xMfWn', 'Rapid', 'Polo1ca', 1835, 'xMrxRoss', 1834, 'e4,e6,d4,d5,Nc3,Bb4,Bd3,b6,Ne2,Ba6,O-O,Bxd3,Qxd3,Nf6,Bg5,Be7,Bxf6,Bxf6,e5,Bg5,f4,Be7,f5,exf5,Qxf5,O-O,Rf3,c5,Raf1,cxd4,Nxd4,Bc5,Ne2,Nc6,c3,Nxd4,cxd4,Bb4,Rh3,g6,Qf3,Qg5,a3,Bd2,Kh1,Rac8,Qxd5,Rcd8,Qe4,b5,Rg3,Qh6,Rff3,Qg7,Rh3,Rde8,Nf4,Bxf4,Rxf4,f6,Rfh4,h5,Rg3,fxe5,Kg1,Rf6,Rxh5,Kf7,Rxe5,Rxe5,dxe5,Rf5,Rf3,Rxf3,gxf3,Qh6,f4,Qh4,e6+,Kf6,Qe5+,Ke7,Qg5+,Qxg5+,fxg5,Kxe6,Kg2,Kf5,h4', 'Kg4,h5,Kxh5', 'https://lichess.org/training/xMfWn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XMGK0', 'Rapid', 'BN14', 1937, 'I_must_win', 1922, 'e4,e6,h3,d5,e5,c5,d3,Ne7,Bg5,h6,Bh4,g5,Bg3,Ng6,d4,Nc6,Bb5,Bd7,Bxc6,Bxc6,dxc5,Bxc5,Nf3,Qc7,O-O,Rf8,a3,Qb6,b4,Be7,c3,h5,Qd2,g4,hxg4,hxg4,Nd4,f5,exf6,Rxf6,a4,a6,a5,Qd8,Qe2,Kd7,Qxg4,Qh8,f4,Rg8,Qf3,Qg7,Nxc6,Kxc6,Nd2,Nxf4,Bxf4,Rxf4,Qh3,Rg4,Rf2,Bh4,Raf1,Bxf2+,Rxf2,Rg3', 'Qxe6+,Kc7,Rf7+,Qxf7,Qxf7+', 'https://lichess.org/training/XMGK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmgP7', 'Blitz', 'laskermann64', 1608, 'SuperNinja33', 1627, 'c4,d6,Nc3,Nf6,d4,Nbd7,Nf3,e5,dxe5,dxe5,e4,Be7,Be2,O-O,O-O,Kh8,Qc2,Ng8,Nd2,Nc5,Nb3,f5,f3,fxe4,Nxe4,Nxe4,Qxe4,c6,Rd1,Qb6+,Be3,Qc7,c5,Bf5,Qc4,Nf6,Bd3,Bd7,Qc2,g6,Rd2,Rad8,Rad1,Rf7,Bg5,a5,a4,b5,Bxf6+,Bxf6,Be4,bxa4,Na1,Be7,Qxa4,Bf6,Qc2,Rff8,Nb3,a4,Nc1,Qa5,Rxd7,Rxd7,Rxd7,Bg5,Qd3', 'Qe1+,Qf1,Be3+,Kh1,Qxf1#', 'https://lichess.org/training/XmgP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xMGVO', 'Rapid', 'ABCastleKing', 2001, 'bggohel', 1762, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Bb5,d6,h3,g6,Bxc6+,bxc6,d3,Bg7,Bg5,O-O,O-O,h6,Bh4,g5,Bg3,g4,hxg4,Bxg4,Bh4,Qd7,a4,Nh5,Bg3,f5,Ra3,f4,Bh2,Bf6,Re1,Bh4,d4,Qf7,Ne2,Bxf3,Rxf3,Qg7,dxe5,dxe5,Rh3,f3,Ng3,Bxg3,Bxg3,Nf4,Rh1,fxg2,Rh2,Qg6', 'Bxf4,Rxf4,Rxg2', 'https://lichess.org/training/xMGVO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmH55', 'Rapid', 'tha1es', 1754, 'dusanblind345', 1700, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Qb3,Nbd7,Be3,O-O,h3,e5,f3,exd4,Bxd4,Nc5,Bxc5,dxc5,Rd1,Qe7,Bd3,Be6,Nge2,a6,O-O,b5,Nd5,Nxd5,exd5,bxc4,Bxc4,Bd7,Nc3,Rab8,Qc2,Bf5,Bd3,Bxd3,Rxd3,Bd4+,Kh1,Rfe8,b3,Qh4,Na4,Be5,Qc4,Qg3', 'f4,Qxd3,Qxd3', 'https://lichess.org/training/XmH55');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmHcg', 'Rapid', 'kaanydgn10', 1731, 'WandererThePoor', 1674, 'd4,d5,c4,dxc4,e4,Nf6,e5,Nd5,Bxc4,Nc6,Qf3,Be6,Nh3,Nxd4,Qe4,c5,Ng5,f5,Nxe6,fxe4,Nxd8,Nc2+,Kd2,Nxa1,Bxd5', 'Rxd8,Ke2,Rxd5', 'https://lichess.org/training/XmHcg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xmHsG', 'Rapid', 'campeon49', 2097, 'papertigran', 2196, 'e4,c6,d4,d5,e5,Bf5,c3,e6,h3,Nd7,Bd3,Bxd3,Qxd3,Ne7,Nf3,Qc7,O-O,c5,a3,Nc6,Re1,Be7,Nbd2,O-O,Qe2,Rfc8,Nb3,Qb6,Qd1,c4,Nbd2,Na5,b4,cxb3,Rb1,Rxc3,Bb2,Rc2,Re3,Rac8,g4,Nf8,Kg2,Ng6,Kg3,a6,h4,Nf8,h5,h6,Ba1,Nh7,Nxb3,Nxb3,Rexb3,Qa5,Rxb7,Bxa3,Rb8,Qc7,R8b7,Qc4,R7b3,Be7,Nd2,Qa4,Rb8,Qd7', 'Qxc2,Rxb8,Rxb8+', 'https://lichess.org/training/xmHsG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmHtf', 'Blitz', 'tbunji', 2293, 'Luc_plays_chess', 2362, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,g3,Nge7,Bg2,Ng6,O-O,Ngxe5,Nxe5,Nxe5,b3,Bc5,Nd2,O-O,Ne4,Be7,Bb2,c5,e3,Nc6,Qd3,f5,Nd2,dxe3,Qxe3,f4,gxf4,Bf6,Bxf6,Qxf6,Ne4,Qxf4,Qxf4,Rxf4,Nxc5,Rf5,Bd5+,Kh8,Rfe1,Rg5+,Kh1,Bh3,Nxb7,Nb4,Be4,Re8,Nd6,Rxe4,Nxe4', 'Bg2+,Kg1,Bxe4+,Kf1,Bd3+', 'https://lichess.org/training/XmHtf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xMIbh', 'Rapid', 'ecl42', 1668, 'fito73', 1698, 'e3,e5,h4,h5,b3,Nf6,Bb2,d6,Be2,Be7,Bf3,Bf5,Bxb7,Na6,Bxa6,O-O,Be2,Ne4,Bxh5,Bxh4,Nh3,Bxh3,Rxh3', 'Nxf2,Qf3,Nxh3+', 'https://lichess.org/training/xMIbh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmjMn', 'Rapid', 'gt_64', 1690, 'Deathmaster_Rdx', 1677, 'd4,d5,c4,dxc4,Nf3,f6,e3,e5,Bxc4,g6,O-O,Bg4,Be2,h5,dxe5,Nc6,exf6,Nxf6,h3,Bf5,a3,Bd6,Nc3,Qd7,Bd3,Bxh3,Bxg6+,Ke7,Ng5,Rag8,Nxh3,Rxg6,Nf4,Bxf4,exf4,Qh3,g3,h4,Re1+,Kf7,Ne2,hxg3,Nxg3,Rxg3+,fxg3,Qxg3+,Kf1,Rh1+,Ke2,Qg2+,Kd3,Qd5+,Kc2,Qf5+,Kb3,Na5+,Ka2,Rxe1,Qxe1,Qd5+,Kb1,Qd3+,Ka2,Ne4,Qxa5,Qc4+,Kb1,Qd3+,Ka2,Qc4+,b3,Nc3+,Kb2,Nd1+,Ka2', 'Qc2+,Bb2,Qxb2#', 'https://lichess.org/training/XmjMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xmk3n', 'Rapid', 'Jeevabalan', 1767, 'CihanKara', 1731, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,O-O,O-O,cxd4,Bb6,e5,Ne8,d5,Ne7,Ng5,h6,d6,cxd6,exd6,Ng6,Qh5,Qf6,Ne4,Qd4,Bd5,Nf6,Nxf6+,Qxf6,Nc3,Qxd6,Ne4,Qe5,Qxg6,Qxd5', 'Nf6+,Kh8,Qh7#', 'https://lichess.org/training/Xmk3n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xmn6L', 'Rapid', 'Ludicrus', 2306, 'SauronREX', 2243, 'f4,f5,e4,fxe4,d3,exd3,Bxd3,Nf6,g4,d5,g5,Ne4,Bxe4,dxe4,Qxd8+,Kxd8,Nc3,Bf5,Be3,c6,O-O-O+,Kc7,Nge2,Nd7,Ng3,Bg4,Rd2,Bf3,Re1,e6,Ncxe4,Nb6,Rf2,Bg4,Bc5,Bxc5,Nxc5,Rae8,b3,Nd7,Nxd7,Kxd7,Re5,Rhf8,Ne4,b6,Ng3,Rf7,f5,Bxf5,Nxf5,exf5', 'Rd2+,Kc7,Rxe8', 'https://lichess.org/training/xmn6L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xmNEV', 'Rapid', 'Artx64', 1859, 'lidaf', 2041, 'd4,d5,c4,e6,Nc3,Nf6,e3,g6,c5,Bg7,Bb5+,Bd7,Be2,b6,b4,Nc6,b5,Nb8,c6,Bc8,Rb1,O-O,f3,Re8,e4,dxe4,fxe4,a6,a4,axb5,axb5,Nh5,Nf3,e5,d5,Bg4,O-O,Nf4,h3,Bxf3,Bxf3,Qd6,Kh1,Qc5,Bb2,Qe7,Kh2,Qh4,Ne2,Nxe2,Qxe2,f5,g3,Qe7,h4,f4,Bc1,g5,Bh5,Rf8,g4,gxh4,Kh3,Ra3+,Rf3,Rxf3+,Qxf3,Qc5,Ba3,Qc2,Rc1,Qd2,Bxf8,Qxc1,Bxg7,Kxg7,Kxh4,Qe1+,Kg5', 'h6+,Kf5,Qh4,g5,Qxg5+,Ke6,Qf6#', 'https://lichess.org/training/xmNEV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xmnre', 'Rapid', 'nafya292', 1628, 'Panov-08', 1657, 'e4,e5,Nf3,Nc6,Nc3,Bc5,d3,Nf6,Qe2,Bb4,Bd2,Nd4,Nxd4,exd4,Nd5,Bxd2+,Kxd2,O-O,Nxf6+,Qxf6,g3,Re8,Bh3', 'Qh6+,f4,Qxh3', 'https://lichess.org/training/xmnre');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmOts', 'Blitz', 'bencohen', 1768, 'euler105', 1761, 'e4,c5,b3,Nc6,Bb2,e6,Bb5,a6,Bxc6,bxc6,Nf3,d5,e5,Ne7,O-O,Ng6,Nc3,Be7,Ne2,O-O,Re1,Qc7,Ng3,a5,Rc1,a4,h3,axb3,cxb3,Rxa2,Bc3,d4,Ba1,Qa5,Ne4,Nxe5,Nxe5,Bb7,Nd7,Rd8,Ndxc5,Ba8,Nd3,f5,Ng3,Rxd2,Qf3,c5,Qh5,Rxd3,Rxe6,Bf6,Nxf5,Qd2', 'Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/XmOts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xMPf5', 'Rapid', 'USazarbyjan', 2054, 'mrjusti97', 2094, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Be2,O-O,Nf3,Bf5,O-O,Re8,Bd3,Bxd3,Qxd3,Ne4,Bxe7,Rxe7,Ne5,Nd7', 'Nxd5,Rxe5,dxe5', 'https://lichess.org/training/xMPf5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xMpTH', 'Blitz', 'kabbridd', 2006, 'Maletaja1', 2395, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,O-O,f3,Nc6,Bc4,Bd7,O-O-O,Rb8,Kb1,Na5,Be2,b5,g4,Nc4,Bxc4,bxc4,Ka1,Qb6,Rb1,Qa6,h4,Rb4,h5,Rfb8,hxg6,fxg6,g5,Nh5,Nd5', 'Qxa2+,Kxa2,Ra4#', 'https://lichess.org/training/xMpTH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XMrcH', 'Blitz', 'ernzfaeldonia', 2094, 'CM NowInChess', 2233, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,Bd6,Bg3,O-O,Be2,c5,O-O,Qc7,c4,Nbd7,cxd5,exd5,dxc5,Nxc5,Nc3,Bxg3,hxg3,Be6,Nd4,Rad8,Bf3,a6,b4,Nce4,Nxe4,dxe4,Be2,Qb6,a3,Nd7,Qb1,f5,Nxe6,Qxe6,Rc1,Ne5,Rc5,Nd3,Qc2,Kh8,Rd1,Nxc5,Rxd8,Rxd8,Qxc5,g6', 'Qc3+,Kg8,Bc4', 'https://lichess.org/training/XMrcH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XMSW7', 'Classical', 'GreatSwami', 1838, 'VanderMannovyk', 1849, 'd4,Nf6,e3,g6,c4,Bg7,Nc3,d6,Be2,O-O,Qc2,c5,Nf3,Nc6,a3,Bg4,h3,Bxf3,Bxf3,cxd4,Ne4,dxe3,Bxe3,Nxe4,Bxe4,Rc8,Rd1,Qa5+,Bd2,Qe5,Bc3,Qf4,g3,Bxc3+,bxc3,Qe5,Rd5,Qf6,O-O,Ne5,Kg2,Rxc4,Ra5,Rfc8,Qe2,Rxc3,Bxb7,R8c7,Rxa7,Rc2,Qe4,R7c4,Qd5,e6,Qxd6,R4c3', 'Ra8+,Rc8,Rxc8+,Rxc8,Bxc8', 'https://lichess.org/training/XMSW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xmTwp', 'Blitz', 'Treebeard1986', 1560, 'BARRERA', 1527, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Bc4,Bc5,c3,Nxf3+,Qxf3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,O-O,O-O,d6,Qg3,Nh5,Qf3,Nf6,e5,dxe5,dxe5,Nd7,Qg3,g6,Bd2,Re8,a3,Bc5,Rfe1,Bd4,Qf4,Bxe5,Bxf7+,Kh8,Rxe5,Rxe5,Qd4,c5,Qd3,Qf6,Ba2,b6,Nb5,Ba6,Bc3,Rf8,Qxd7', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/xmTwp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmuOX', 'Rapid', 'Tupy', 1830, 'salonen', 1813, 'd4,Nf6,c4,d6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg5,c6,Nf3,Nd7,Ne4,Kc7,Nxf6,gxf6,Be3,Nb6,b3,Ba3,Nd2,Bb2,Rb1,Bc3,Rc1,Bb4,f3,Bf5,Kf2,Rad8,Nb1,Rhe8,g4,Bg6,h4,h5,Bh3,a5,Rcd1,a4,gxh5,Bh7,Bxb6+,Kxb6,Rd7,Rxd7,Bxd7,Rd8,Bg4,f5,Bh3,f4,a3,Bc5+,Kg2,axb3,a4,Bb4,Kf2,Ka5,e4,Kxa4,Bf5,Rh8,Bg4,b2,Rd1,Rg8,Rd7,b6,Bh3,Kb3,Bf1,f6,Bd3,Bc5+,Kf1,Rg3,Rxh7,Rxf3+,Ke2,Rf2+,Ke1,Rh2,Rh8,Rxh4,h6,f3,h7,f2+,Kf1,Rh1+,Kg2,Rg1+,Kh2,f1=N+,Kh3,Rg3+,Kh4,Rxd3,Rg8,Bf2+,Kg4,Nh2+,Kf5,Kc2,h8=Q,Kxb1,Qxh2,Rd2,c5,b5,Rg1+,Kc2,Rh1,b4,Kxf6,Bxc5,Qxe5', 'Bd4,Qxd4,Rxd4', 'https://lichess.org/training/XmuOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xMUx3', 'Rapid', 'pbx', 1742, 'kokov', 1752, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,Nf6,O-O,e6,d4,Bd6,Bg5,Nbd7,Ne5,Bxe2,Qxe2,h6,Nxd7,Qxd7,Bxf6,gxf6,Ne4,Qe7,Qb5+,c6,Nxd6+,Qxd6,Qxb7,O-O,c3,Rab8,Qxa7,Rxb2,Rab1,Rfb8,Rbc1,Qf4,a4,Rxf2,d5,Rbb2,Rxf2,Qxc1+,Rf1,Qc2,Rf2,Qd1+,Rf1,Qe2,Rf2', 'Rb1+,Rf1,Qxf1#', 'https://lichess.org/training/xMUx3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xmwdv', 'Blitz', 'Shawarib', 1645, 'DooranW', 1661, 'd4,e6,Bf4,c5,Nf3,Qf6,e3,cxd4,Qxd4,Nc6,Qxf6,Nxf6,Nc3,g6,O-O-O,Bg7,h4,O-O,Be2,Nd5,Nxd5,exd5,h5,Ne7,Bd6,Bf6,g4,Re8,g5,Bh8,hxg6,Nxg6,Bd3,Re6,Bc5,Ne5,Nxe5,Rxe5,Rdg1,b6,Bd4,Re6,Bxh8,Kxh8,Rxh7+,Kg8,Rgh1,Kf8,f4,Rxe3,f5,Ke7,g6,Bb7,Rxf7+,Kd6,g7,d4,Rh6+,Kc7,Rf8,Bf3,Rxa8', 'Re1+,Kd2,Rd1#', 'https://lichess.org/training/Xmwdv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XMwji', 'Rapid', 'Bahramiyan', 1788, 'Pierangelo', 1674, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Ne7,Nc3,g6,Nd5,a6', 'Nf6#', 'https://lichess.org/training/XMwji');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmxbB', 'Rapid', 'panna26275', 1753, 'hittheroadjack', 1774, 'e4,c5,Nf3,Nc6,e5,f6,exf6,Nxf6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Bd3,Bg7,Nc3,O-O,b3,Nd5,Nxd5,Bxa1,Bg5,Bf6,Bxf6,exf6,Nf4,Re8+,Ne2,d5,O-O,Bg4,Qd2,Qe7,Nd4,Qc5,c3,Re7,Qf4,h5,Qxf6,Qxc3,Qxe7,Qxd3,Nxc6,Rc8,Ne5', 'Qxf1+,Kxf1,Rc1#', 'https://lichess.org/training/XmxbB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XmxsP', 'Classical', 'aksdeo5', 1670, 'killer_rectangle', 1714, 'e4,e5,f4,Bc5,Bc4,Qf6,Nf3,exf4,d4,Bb6,Nc3,d6,h3,Ne7,O-O,O-O,Kh1,Ng6,Nd5,Qd8,Nxf4,Nxf4,Bxf4,Re8,e5,dxe5,Nxe5,Rf8,c3,Nc6,Nxc6,bxc6,Qd3,Bb7,Qg3,c5,Bh6,g6,Bxf8,Qxf8,dxc5,Qxc5,Bxf7+,Kh8,Bb3,Qh5,Rf7,Rc8,Raf1,Bc5,Rxc7,Rxc7,Qxc7', 'Qxh3+,Qh2,Bxg2#', 'https://lichess.org/training/XmxsP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XMygr', 'Rapid', 'neman49', 1884, 'dsal', 1828, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,c5,Be3,cxd4,cxd4,O-O,Be2,Nc6,O-O,b6,Rc1,Bb7,e5,Nb4,a3,Nd5,Qb3,Nxe3,Qxe3,e6,Rc2,Rc8,Rfc1,Rxc2,Rxc2,Qd7,h3,Rc8,Rxc8+,Qxc8,Nh2,h5,Bf3,Bxf3,Nxf3,f6,Qb3,fxe5,dxe5,Bxe5', 'Nxe5,Qc1+,Kh2,Qf4+,Qg3', 'https://lichess.org/training/XMygr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XMZEq', 'Classical', 'thanh247', 1718, 'aaravkothari', 1703, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,Bg5,Be7,e3,O-O,cxd5,Nxd5,Nxd5,Bxg5,Nxg5,Qxd5,Qh5,h6,Bd3,g6', 'Qxh6,Qxg5,Qxg5', 'https://lichess.org/training/XMZEq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xn0Dy', 'Rapid', 'ufufu19', 1891, 'medo-mega', 1989, 'e4,c5,Bc4,e6,Nc3,d6,d3,Nf6,Nf3,Nc6,Be3,a6,a3,Be7,Qd2,O-O,g4,Nxg4,O-O-O,Nxe3,Qxe3,e5,Rdg1,Nd4,Qh6,Bf6,Ng5,Bxg5+', 'Rxg5,Qxg5+,Qxg5', 'https://lichess.org/training/xn0Dy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xn0l2', 'Rapid', 'Valentin44', 2298, 'Mamamio', 2174, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,d5,O-O,Bd6,Qe2,Ne7,Nd2,Ng6,Nf3,Qc7,c4,O-O,b3,a5,exd5,cxd5,Bd2,a4,b4,Ne5,Nxe5,Bxe5,Rac1,Bxh2+,Kh1,dxc4,Rxc4,Qd6,Rh4,g6,Rxh2,Rd8,Be4,Ba6,b5,Bxb5,Qxb5,Rab8,Qxa4,Qxd2,Bf3,Qxf2,Rg1,Rd2,Qf4', 'Qxg1+,Kxg1,Rb1+', 'https://lichess.org/training/Xn0l2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xn2gG', 'Rapid', 'JJ_21389', 1617, 'thiago_sbezerrachess', 1631, 'e4,d6,d4,e6,c4,Nf6,Nc3,Be7,f4,c6,Nf3,Nbd7,Bd3,O-O,h4,Qa5,Ng5,e5,Bd2,exf4,Bxf4,h6,Bd2,d5,Nxd5,Nxd5,Bxa5,Nf4,Qf3,Nxd3+,Qxd3,Bxg5,hxg5,hxg5,Qh3,f6,O-O-O,Nb6,Bb4,Bxh3,Rxh3,Rfe8,c5,Nd7,Re1,b6,Rhh1,bxc5,Bxc5,Nxc5,dxc5,Re5,b4,Rb8,a3,a6,g4,Rbe8,Kb2,Rxe4,Rxe4,Rxe4,Rg1,Kf7,Kb3,Rf4,a4,Kg6,b5,cxb5,axb5,axb5,Rc1,Kf7,c6,Ke7,c7,Rc4,Rxc4', 'bxc4+,Kxc4,Kd7,c8=R,Kxc8', 'https://lichess.org/training/Xn2gG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xN4Qe', 'Rapid', 'ashtenlaturnas', 1927, 'Plangkiboy', 1976, 'd4,Nf6,Bf4,g6,e3,Bg7,Bd3,d6,Nf3,O-O,h3,c5,c3,b6,Nbd2,Bb7,Qe2,Nbd7,e4,Re8,e5,Nd5,Bh2,dxe5,dxe5,e6,Be4,Qc7,Nc4,Ba6,b3,Bxc4,bxc4,Nxc3,Qe3,Nxe4,Qxe4,Rad8,O-O,Nb8,Rfd1,Nc6,Qe3,Rd7,Rxd7,Qxd7,Bf4,Rd8,Bg5,Rc8,Bf6,h6,Re1,Na5,Qf4,Nc6,Kh2,Nd4,Bxg7,Kxg7,Rd1,Rd8,Nxd4,cxd4,Rd3,a6,h4,h5,Kg1,b5,c5,Qd5,Qf6+,Kg8,g4,hxg4,h5,gxh5,Qg5+,Kf8,c6,Rc8,Qh6+,Ke7', 'Qf6+,Kf8,Qh8+', 'https://lichess.org/training/xN4Qe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xn5pV', 'Rapid', 'BeliyDrakon-2012', 2087, 'Pedroserul', 1851, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bd6,c4,c6,O-O,O-O,Qc2,Re8,c5,Bc7,Re1,Bf5,Na3,Nd7,b4,Ndf6,Bb2,a6,Nh4,Bg6,Nxg6,hxg6,f3,Ng5,Qf2,Rxe1+,Rxe1,Qd7,Nc2,Re8,a4,Rxe1+,Qxe1,Qe6,Qf2,Qe7,Ne3,Ne6,g3,Ng5,Kg2,Qe6,g4,Bf4,Nf1,Qe7,h4,Ne6,g5,Nh5,Bc3,Bc7,Qd2,Nhf4+,Kh1,Nxd3,Qxd3,Nf4,Qd2,Ne2,Qe1,Qe6,Qf2,Qh3+,Nh2,Ng3+,Kg1,Nf5,Be1,Bxh2+,Qxh2,Qxh2+,Kxh2,Nxd4,Kg3,Nc2,Bc3,Kf8,Kf2,d4,Bd2,Na3,a5,Nc4,Ke2,Nxd2,Kxd2,Ke7,Kd3,Ke6,Kxd4,Kf5,Ke3,Ke5,f4+,Kd5,Kd3,f6', 'gxf6,gxf6,f5,gxf5,h5', 'https://lichess.org/training/xn5pV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xN78f', 'Rapid', 'Alkiza', 2087, 'montseny58', 1849, 'd4,c6,c4,d5,Nf3,Nf6,Qc2,e6,g3,Bd6,Bg2,Nbd7,O-O,b6,Re1,Ne4,cxd5,exd5,Qxc6,Rb8,Qxd6,Nxd6,Nc3,O-O,Nxd5,Nf6,Bg5,Nde4,Nxf6+,Nxf6,e4,h6,Bf4,Rb7,Rac1,Re8,Nd2,g5,Be5,Ng4,Nc4,Nxe5,dxe5,Rc7,Nd6,Rxe5,f4,Rec5,Rcd1,Qf6,e5,Qe6,f5,Qxa2,f6,Qxb2,Nb5,Rc1', 'Rd8+,Kh7,Be4+,Bf5,Bxf5#', 'https://lichess.org/training/xN78f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xn7dd', 'Rapid', 'Kleopatra2019', 2105, 'doge404', 2029, 'd4,g6,c4,e6,Nf3,Bg7,e4,Ne7,Nc3,Nbc6,Be3,O-O,Qd2,e5,d5,Nb4,a3,Na6,b4,d6,Bh6,c6,Bxg7,Kxg7,h4,Bg4,Be2,cxd5,Nxd5,Nxd5,exd5,h5,Ng5,Qd7,f3,Bf5,Rg1,f6,Ne4,Bxe4,fxe4,f5,exf5,Rxf5,g4,Rf4,gxh5,Qh3,Rxg6+,Kh7,Rg1,Qxh4+,Kd1,Rd4,Bd3+,e4,Qg2,Rxd3+', 'Kc2,Rg3,Qxg3,Qxg3,Rxg3', 'https://lichess.org/training/Xn7dd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xNAax', 'Blitz', 'FM UnknownM8', 2143, 'FM Ubiyca', 2162, 'd4,d5,Nf3,c5,e3,Nf6,Bd3,Bg4,O-O,e6,h3,Bh5,dxc5,Bxc5,Nbd2,O-O,b3,Nc6,Bb2,Rc8,a3,a5,Qe2,Ba7,Rac1,Qd6,c4,d4,exd4,Nxd4,Bxd4,Bxd4,Ne4,Qxa3,g4,Bg6,Nxd4,Rfd8,Nxf6+,gxf6,Bxg6,hxg6,Rfd1,e5,Nb5,Qxb3,Rxd8+,Rxd8,Rc3,Qb1+,Kg2,a4,Qc2,Qe1,Rd3', 'Qe4+,f3,Qxd3,Qxd3,Rxd3', 'https://lichess.org/training/xNAax');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNAzy', 'Rapid', 'Chrchr3', 1781, 'raissoso', 1651, 'e4,e5,d4,exd4,c3,Nf6,e5,Nd5,cxd4,Bb4+,Bd2,O-O,Bxb4,Nxb4,Nf3,d6,Bc4,Bg4,h3,Bh5,a3,N4c6,O-O,dxe5,g4,Bg6,dxe5,Qxd1,Rxd1,Be4,Ng5,Nxe5,Bxf7+,Nxf7,Nxe4,Nc6,Nbc3,Nce5,Kg2,c6,Rd2,Nc4,Re2,b5,Rae1,a5,Nc5,b4,axb4,axb4,N3e4,Ra2,b3,Rxe2,Rxe2,Nce5,Na6,Nd3,Nec5,Nfe5,Nxd3,Nxd3,Rc2', 'Ne1+,Kf1,Nxc2', 'https://lichess.org/training/XNAzy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xnBnh', 'Rapid', 'shahmatist_uz', 2214, 'spaceisgreat', 2139, 'd4,Nc6,d5,Ne5,f4,Ng6,e4,e5,Nf3,exf4,Bd3,d6,O-O,Bg4,Nc3,Nf6,Ne2,Bxf3,Rxf3,Ne5,Rxf4,Nxd3,Qxd3,Qd7,Be3,Ng4,Bd4,Ne5,Qc3,a6,Bxe5,dxe5,Qxe5+,Kd8,Raf1,Bd6,Qg5+,f6,Rxf6,Be7,Qxg7', 'Bc5+,Kh1,Qxg7', 'https://lichess.org/training/xnBnh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XncGN', 'Classical', 'torrepajarete', 1934, 'SasaMilet', 2048, 'e4,d6,Nc3,c5,Nf3,e5,Bc4,a6,d3,b5,Bd5,Ra7,O-O,g6,Ng5,Nf6,f4,Nxd5,Nxd5,h6,fxe5,Bg7,Nf3,dxe5,Be3,Qd6,c4,b4,Qa4+,Bd7,Qa5,Nc6,Qxc5,Qxc5,Bxc5,Rb7,Rf2,f5,Raf1,f4,g3,g5,b3,Kf7,Nb6,Bh3,Re1,Kg6,Nd5,h5,gxf4,gxf4,Kh1,Kh6,Rg1,Bg4,Nh4,Bf8,Bxf8+,Rxf8,h3,Bd7,Rg6+,Kh7,Nf6+,Rxf6,Rxf6,Nd4,Rg2,Bxh3,Rgg6,Bg4,Rh6+,Kg7,Rhg6+,Kh7,Rxa6,Rf7,Rh6+,Kg7,Rag6+,Kf8,Rb6,f3,Ng6+,Kg7,Nxe5,f2,Rhg6+,Kf8,Rbf6,f1=Q+,Rxf1,Rxf1+,Kg2,Be2,Rd6,Nc2,c5,h4,c6,Ne3+,Kh2,Rc1,Ng6+,Kf7,Nxh4,Ng4+,Kg2,Ne5,d4,Nxc6,Kf2,Bd3,Ke3,Bb1,d5,Ne7,Ra6,Re1+,Kd4', 'Rxe4+,Kc5,Rxh4', 'https://lichess.org/training/XncGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xnchZ', 'Rapid', 'ivpvarma', 2258, 'Volodya51', 2072, 'e4,d6,d4,Nf6,Nc3,e6,Nf3,Be7,Bd3,O-O,h3,a6,Be3,b5,a3,Bb7,Qd2,Nbd7,d5,e5,g4,c5,g5,Nh5,h4,g6,Ng1,Nb6,Be2,Ng7,h5,Nc4,Bxc4,bxc4,hxg6,fxg6,O-O-O,Bc8,Rf1,Bg4,f4,exf4,Bxf4,Bxg5,Nge2,Bxe2', 'Bxg5,Rxf1+,Rxf1,Bxf1,Bxd8', 'https://lichess.org/training/xnchZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xNdif', 'Rapid', 'umitkepoglu', 1981, 'Veres_ya', 1861, 'Nf3,Nc6,Nc3,e5,d3,Bc5,e3,Nf6,d4,exd4,exd4,Bb6,d5,Qe7+,Be2,Nb4,a3,Na6,h4,d6,O-O,O-O,Rb1,Bg4,Bxa6,bxa6,Re1,Qd7,Ne5,Qc8,Nxg4,Nxg4,Be3,Nxe3,fxe3,Re8,Qf3,Re5,Nd1,Rf5,Qe4,Qd7,Nc3,Re8,Qd3,Rh5,Qe2,Rxh4,b4,Re5,Nd1,Reh5,Nf2,Rxd5,a4,Qxa4,Qf3,Qc6,Ne4,Rdh5', 'Nf6+,gxf6,Qxc6', 'https://lichess.org/training/xNdif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XnEpJ', 'Bullet', 'putputz', 1753, 'anthco', 1617, 'd4,d5,Nf3,c6,Bf4,Nf6,e3,g6,c4,Bg7,Nc3,O-O,cxd5,cxd5,Bg3,Nc6,Be2,Nh5,a3,Nxg3,hxg3,Qb6,Qc2,e6,Nd2,Bd7,Nb3,Rfc8,Nc5,Be8,g4,Qc7,g3,b6,Nd3,Na5,f4,Nc4,Qc1,Rab8,g5,b5,Ne5,Nxe5,fxe5,a5,Qd2,Qd8,Rc1,Qxg5,e4,Qxg3+,Kd1,dxe4,Nxe4,Rxc1+,Qxc1,Qb3+,Ke1,Bd7,Ng5,Rc8,Qf4,Qxb2', 'Qxf7+,Kh8,Rxh7#', 'https://lichess.org/training/XnEpJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNFgE', 'Classical', 'Matzaja', 1711, 'johan007', 1749, 'd4,c6,c4,b5,e3,a6,c5,d6,b4,a5,Bd2,dxc5,bxc5,Bf5,Nc3,e6,a4,b4,Nce2,g6,Ng3,Nf6,Nxf5,exf5,Nf3,Bg7,Qb3,Nd5,Bc4,O-O,Bxd5,Qxd5,Qxd5,cxd5,Rc1,Nc6,O-O,Bf6,Rb1,Rfe8,Rfc1,Kg7,Rb3,h5,h4,Re4,g3,Rg4,Kh2,Re8,Ne1,Rge4,Kg2,g5,hxg5,Bxg5,Nf3,Kg6,Nxg5,Kxg5,f3,R4e6,Re1,Kg6,Kh3', 'Nxd4,exd4,Rxe1,Bxe1,Rxe1', 'https://lichess.org/training/XNFgE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xNfQZ', 'Rapid', 'vonLuckner', 1785, 'vitalsan007', 1784, 'e4,d6,Nf3,e6,d4,h6,c4,g6,Nc3,Bg7,b3,Ne7,Bb2,a6,Be2,b6,e5,d5,O-O,Bb7,Re1,Nd7,Rc1,g5,Bf1,Ng6,g3,g4,Nd2,h5,Ne2,h4,Bg2,hxg3,fxg3,Nh4,gxh4,Qxh4,Nf1,Bh6,Rc3,O-O-O,Bc1,Rdg8,Bxh6,Rxh6,Rg3,Rh5,Qd2,Rf5,Nf4,Qh6,Ne2', 'Rxf1+,Rxf1,Qxd2', 'https://lichess.org/training/xNfQZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xnfVj', 'Rapid', 'Polyglot_2021', 1937, 'antabus08', 1924, 'd4,Nf6,c4,d6,Nf3,g6,Nc3,Bg7,e4,Nbd7,Bd3,O-O,O-O,Re8,Qc2,e5,dxe5,dxe5,Nd5,c6,Nxf6+,Nxf6,Bg5,Qc7,Rad1,Bg4,Be2,h6,Be3,a6,h3,Be6,b3,Kh7,Bc1,Nh5,c5,Nf4,Bxf4,exf4,Bc4,Qe7,Rfe1,Qxc5,Rc1,b5,Bxe6,Qxc2,Rxc2,Rxe6,Nd2,f5,f3,Rae8,Rec1,Bd4+,Kh2,c5,g3,fxg3+,Kxg3,f4+,Kxf4,Rf8+,Kg3,Re5,f4,Rh5,Nf3,Be3,Rd1,Bxf4+,Kg2,Rf7,Rd5,Be3,Rxh5,gxh5,Re2,Bd4,Nh4,Rg7+,Kf3,Be5,Nf5,Rg1,Rd2,Rf1+,Ke2,Ra1,Rd7+,Kg6,Rd5,Rxa2+,Kf3,Kf6,Rxc5,Rb2,Rc6+,Kg5', 'h4#', 'https://lichess.org/training/xnfVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNGhi', 'Rapid', 'Arty14', 1890, 'Extravalan', 1890, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,Nc6,c3,e6,Bg5,Be7,Nd2,Qb6,Nb3,a5,Qe2,a4,Nc1,O-O,O-O,Rfe8,b3,a3,Qf3,Qc7,Bf4,Bd6,Ne2,Rab8,Bxd6,Qxd6,Rfe1,b5,Ng3,b4,Ne2,bxc3,Rac1,Qb4,Rxc3,Nxd4,Nxd4,Qxc3', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/XNGhi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XnI4H', 'Rapid', 'Sykin', 1774, 'cargan', 1893, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,f4,c5,Nc3,cxd4,Qxd4,Nc6,Qf2,Nh6,Be3,Be7,h3,Nf5,Bd2,O-O,g4,Nh4,O-O-O,a5,Nb5,a4,a3,b6,Be3,Rb8,Nd6,Bxd6,exd6,Ng6,f5,Nge5,f6,Qxf6,Bxb6,Qxf2,Bxf2,Rfd8,Bg3,Rxd6,Nf3,f6,g5,Rdd8,Nxe5,Nxe5,gxf6,gxf6,Rhe1,Kf7,Bxe5,fxe5,Rxe5,Kf6,Rde1,Rb6,Rh5,Rd7,Rf1+,Kg6,Re5,Rdb7,h4,Rxb2', 'Rg5+,Kh6,Rf6#', 'https://lichess.org/training/XnI4H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xnKcJ', 'Rapid', 'mik4708', 1919, 'Agastyadharma', 1944, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,a3,a6,Nc3,Nf6,Be2,Bc5,Be3,Qb6,Na4,Qa7,Nxc6,bxc6,Bxc5,Qc7,Nb6,Rb8,Nxc8,Rxc8,Bf3,d5,Qd3,dxe4,Bxe4,Qe5,O-O-O,Qxc5,Qxa6,O-O,Bf3,Qxf2,Bxc6,Qc5,Ba4,Ra8,Qc6,Qe3+,Kb1,Rfc8,Qb5,Rcb8,Qc4,Qxa3', 'Rd8+,Rxd8,bxa3', 'https://lichess.org/training/xnKcJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNL9c', 'Rapid', 'elcoronta', 1963, 'sekarjogja03', 1914, 'd4,Nf6,c4,c6,Nc3,d5,Nf3,Bf5,cxd5,cxd5,Qb3,e6,Qxb7,Nbd7,e3,Bd6,Bb5,O-O,Qa6,Nb6,Bd3,Ne4,Bxe4,dxe4,Nd2,Qg5,Qf1,Qg6,h3,e5,g4,Bd7,Ndxe4,exd4,exd4,Rfe8,f3,Bb4,Qd3,Bxc3+,bxc3,Bc6,O-O,Bxe4,fxe4,Rxe4,Bd2', 'Rxg4+,hxg4,Qxd3', 'https://lichess.org/training/XNL9c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XnLhq', 'Rapid', 'MikZar', 1751, 'Andy_7', 1709, 'e3,d5,b3,Nf6,Bb2,e6,Ne2,b6,Ng3,Bb7,Nc3,Nbd7,f3,c5,Bb5,a6,Bxd7+,Qxd7,O-O,Bd6,Nge2,Qc7,Na4,Bxh2+,Kf2,Be5,Bxe5,Qxe5,Nxb6,Rd8,d4,cxd4,Qxd4,Qxd4,Nxd4,Rd6,Na4,O-O,Rac1,g6,c4,e5,Ne2,e4,f4,Ng4+,Kg3,Nxe3,Rf2,Nf5+,Kh2,e3,Rff1,d4,Nc5,Ba8,g4,Ne7,Nd3,f5,g5,Nc6,a3,Kg7,b4,Rh8,Kg3,h6,gxh6+,Rxh6,Rcd1,Rh5,b5,axb5,cxb5,Na5,Nc5,g5,Rxd4,Rxd4,Nxd4,gxf4+,Rxf4,Rg5+,Kh4,Kg6,Ne2,Rh5+,Kg3,Rg5+,Kh3,Bg2+,Kh2,Ba8,a4', 'Rg2+,Kh3,Rxe2', 'https://lichess.org/training/XnLhq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xNLpO', 'Bullet', 'JULIANCHOV', 1983, 'egglet', 2120, 'd4,d5,c4,e6,Nc3,Nf6,e3,Be7,Nf3,O-O,Bd3,c5,cxd5,Nxd5,O-O,Nc6,e4,Nxc3,bxc3,cxd4,cxd4,Nxd4,Bb2,Nxf3+,Qxf3,Qb6,Rab1,Qa5,Ba1,Qxa2,h3,a6,h4,Qa5,Qg4,e5,Qg3,Bf6,f4,exf4,Qxf4,Bxa1,Rxa1,Qb4,Rab1,Qd4+,Kh2,Qxd3,e5,b5,Rbd1,Qg6,Rf3,Qg4', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/xNLpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNMcE', 'Blitz', 'vidanut', 2065, 'Pedro_Saratoga69', 1899, 'f4,f5,e4,d5,exf5,Nf6,Bd3,h5,Nf3,c5,Nh4,a6,O-O,b5,Ng6,Rg8,Re1,Ra7,Nc3,c4,Bf1,Bxf5,Ne5,Qb6+,Kh1,d4,Ne2,e6,Ng3,Ng4,d3,Nxe5,fxe5,Bg4,Be2,Bf5,Bg5,Be7,Qd2,Nc6,dxc4,Nxe5,cxb5,axb5,Bxe7,Rxe7,Bxh5+,g6,Bd1,Nc4,Qb4,Ne3,Be2,Nxg2,Kxg2,Qc6+,Bf3,Qd7,Nxf5,gxf5+,Kh1,Rh7,Re5', 'Rxh2+,Kxh2,Qh7+,Bh5+,Qxh5#', 'https://lichess.org/training/XNMcE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNMDp', 'Rapid', 'jarmoosh', 1738, 'shachmatt', 1748, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,h6,O-O,d6,a3,Bg4,d3,Nc6,Be3,Bxe3,fxe3,Ne7,h3,Bh5,g4,Bg6,Qd2,Qd7,b4,a6,Nh4,Bh7,Nf5,Nxf5,exf5,d5,Bb3,d4,Ne2,dxe3,Qxe3,O-O-O,Qxe5,Rhe8,Qh2,Re7,Rf2', 'Rxe2,Rxe2,Qd4+,Kg2,Qxa1', 'https://lichess.org/training/XNMDp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNmSP', 'Blitz', 'eddiebhila', 1949, 'Krachmacherstrasse', 1994, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,h6,d3,Be7,Be3,d6,Nd5,O-O,h3,a6,Nxe7+,Nxe7,Qd2,b5,Bb3,c5,a4,Rb8,Bxh6,gxh6,Qxh6,Nh7,axb5,axb5,Ra7,Rb7,Ra8,Rc7,h4,c4,dxc4,bxc4,Ba4,Ng6,Ng5,Nf6,Bb5,Nf4,Ba6,Qe7,Bxc8,Rfxc8,Rxc8+,Rxc8,h5,Ne6,Nxe6,Qxe6,Qg5+,Kf8,h6,Ke7,h7,Rh8,Qg7,Qc8,Qg5,c3,b3,Qc5,Rh6,Qd4,Qxf6+,Kd7,Qxh8', 'Qd2+,Kf1,Qd1#', 'https://lichess.org/training/XNmSP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNNCA', 'Rapid', 'Sasuke123456', 1851, 'Latissimusdorsi', 1926, 'd4,e6,Nf3,d5,e3,Nf6,c4,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,cxd5,exd5,Bd3,Bg4,Qb3,b6,Ne5,Nbd7,Nxg4,Nxg4,Qxd5,a5,Qh5,Ngf6,Qh3,c5,Ne4,cxd4,exd4,Nxe4', 'Bxe4,Nf6,Bxa8', 'https://lichess.org/training/XNNCA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNnN3', 'Classical', 'Neno111', 2003, 'Alibabaaaaa', 2015, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Be7,e3,O-O,Rc1,a6,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,Nbd7,Ne4,Nxe4,Bxe7,Nxf2,Bxh7+,Kh8,Rxf2,Qxe7,Bb1,c5,dxc5,Nxc5,Qc2,Be4,Qxc5,Qxc5,Rxc5,Bxb1,a3,Rac8,Rxc8,Rxc8,g3,f6,Nd4,e5,Nb3,Kg8,h4,Kf7,Kg2,Ke6,Kf3,f5,Nd2,Ba2,e4,g6,Ke3,Rc2,exf5+,gxf5,Nf3', 'f4+,gxf4,exf4+,Kxf4,Rxf2', 'https://lichess.org/training/XNnN3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNowA', 'Rapid', 'Babov', 1826, 'thematetrix', 1785, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bg4,h3,Bh5,Be3,e6,g4,Bg6,h4,f6,Qd2,Qb6,Nc3,Bd6,Na4,Qb4,Nxc5', 'Bxc5,Bxc5,Qxc5', 'https://lichess.org/training/XNowA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XnpL9', 'Rapid', 'aquarius025677', 1937, 'Stefan08', 2030, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bd6,O-O,O-O,c4,Nf6,Bg5,dxc4,Bxc4,Bg4,Nbd2,h6,Bh4,Nc6,Qa4,Be7,Bxf7+,Rxf7,d5,Qxd5,Bxf6,Bxf6,Qxg4,Bxb2,Rab1,Qxa2,Nc4,h5,Qe4,Bd4,Ng5,Qxc4,Qh7+,Kf8,Rbe1,Ne5', 'Qh8+,Ke7,Qxa8', 'https://lichess.org/training/XnpL9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xNpXl', 'Blitz', 'Toivonen_Alexander', 2476, 'NM TheLlamaLord', 2481, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Bb4,e3,O-O,Bd3,Ne4,Qc2,f5,O-O,Bxc3,bxc3,c6,Ne5,Nd7,f4,Nxe5,fxe5,b6,Ba3,Rf7,cxd5,cxd5,Bxe4,dxe4,c4,Ba6,Rfd1,Rc8,c5,Qd5,Rac1,Rfc7,Qa4,Bd3,cxb6,Bc2,Qb4,axb6,Qxb6', 'Rc6,Qb7,Bxd1,Qxc8+,Rxc8,Rxc8+,Kf7', 'https://lichess.org/training/xNpXl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XnqZB', 'Classical', 'klyuchnik-1974', 1660, 'samson59', 1630, 'b4,e5,Bb2,d6,b5,a6,c4,axb5,cxb5,Bd7,a4,b6,g3,Nf6,Bg2,c6,Nf3,cxb5,Nxe5,Rxa4,Nxd7,Qxd7,Nc3,Rxa1,Qxa1,Be7,Nd5,Nxd5,Bxg7,Rg8,Bxd5,Qf5,e4,Qg4,Bd4,Rg5,O-O,f6,Bxf6,Rh5,Bxe7,Kxe7,f4,Nd7,e5,dxe5,fxe5,Nxe5,Qa7+,Kd6,Qb7', 'Qd4+,Kh1,Qxd5+,Qxd5+,Kxd5', 'https://lichess.org/training/XnqZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNRES', 'Rapid', 'Huskygaze3', 1764, 'supercimi', 1942, 'd4,d5,Nf3,c6,e3,Nf6,Bd3,Bg4,h3,Bh5,O-O,e6,Nbd2,Bd6,b3,Bc7,Be2,h6,Ba3,g5,Ne5,Bxe2,Qxe2,Nfd7,Ndf3,f6,Nxd7,Nxd7,Qd3,f5,c4,Qf6,Rac1,O-O-O,cxd5,exd5,b4,a6,Bb2,g4,hxg4,fxg4,Ne5,Kb8,f4,gxf3,Rxf3,Qg7,Rf7', 'Nxe5,Rxg7,Nxd3', 'https://lichess.org/training/XNRES');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNrWR', 'Rapid', 'Aza94', 1757, 'Christos22', 1842, 'd4,e6,c4,b6,Nc3,Bb4,e3,Bxc3+,bxc3,Ba6,Ba3,d5,Qb3,Ne7,Nf3,O-O,Be2,Re8,O-O,Nbc6,Qa4,Qc8,Rfe1,Na5,Ne5,c6,cxd5,Bxe2,Rxe2,cxd5,c4,f6,Bxe7,Rxe7,Nd3,Nxc4,Rc2,a6,Qb4,Rc7,Rac1,b5,Nb2,Rb8,Nxc4,bxc4,Qd6,Rcb7,Qxa6,Qc7,Qxe6+,Kh8,Qxd5,Rb1,Qxc4', 'Rxc1+,Rxc1,Qxc4', 'https://lichess.org/training/XNrWR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XnSHO', 'Rapid', 'bigrtyn', 1693, 'swaggles', 1738, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,Bb4,Nxc6,bxc6,a3,Bxc3+,bxc3,d5,Bd3,Nf6,f3,O-O,O-O,Bb7,Be3,Nd7,h3,c5,exd5,exd5,c4,d4,Bf2,Ne5,Bg3,Ng6,Bxg6,fxg6,Qd2,Qf6,Rae1,Ba6,Qd3,Qg5,Kh2,h5,h4,Qf6,Re5,Rac8,Rfe1,Rc6,Rd5,Qf7,Ree5,Rfc8,Rg5,Kh8,c3,dxc3,Qxc3,Kh7,Bd6', 'Rxd6,Rxd6,Qf4+,Kh3,Qxd6', 'https://lichess.org/training/XnSHO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XnSyB', 'Rapid', 'Twaki', 1930, 'sehAda', 1854, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,a6,Ba4,Nf6,O-O,Bg4,Re1,Be7,d4,exd4,cxd4,O-O,Nc3,Bxf3,gxf3,h6,Kh1,Nh7,Rg1,Kh8,Nd5,Bf6,Be3,Ne7,Nxf6,Nxf6,Qd3,Nc6,Rac1,Qe7,Bxc6,bxc6,Rxc6,Qd7,Rgc1,Qh3,Bd2', 'Ng4,fxg4,Qxd3', 'https://lichess.org/training/XnSyB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XnTGc', 'Rapid', 'janeslav', 1668, 'Seholmius', 1649, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,c5,e3,d5,cxd5,Bxc3,Bxc3,cxd4,Qa4+,Bd7,Qxd4,Nxd5,Qxg7,Rf8,Bd4,Qa5+,Bc3,Nxc3,Qxc3,Qxc3+,bxc3,Na6,Nf3,Nc7,Bd3,Nd5,c4,Nf6,O-O,Bc6,Ne5,Be4,Bxe4,Nxe4,Rab1,Nd2,Rxb7,Nxf1,Kxf1,Rd8,Rxa7,f6,Nc6,Rd7,Ra8+,Kf7,Ra6,Kg8,Nd4,Re8,Nxe6,Kf7,Nc5,Rc7,Nd3,Rxc4,Ra7+,Re7,Ra6,Rc2,g3,Rd7,Nb4,Rd1+,Kg2,Rb2,Ra7+,Kg6,Nc6,Rdd2,Ne7+,Kg5,h4+,Kh6,Nf5+,Kg6,e4,Rxf2+,Kg1,Rfe2', 'Rg7+,Kh5,g4#', 'https://lichess.org/training/XnTGc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xNtZL', 'Blitz', 'yaz', 1680, 'icezar', 1745, 'd4,Nf6,h3,g6,e3,Bg7,Be2,O-O,Nf3,d6,O-O,Nc6,c3,e5,dxe5,Nxe5,Nbd2,Nfd7,Nd4,Qe7,N2f3,f5,Qc2,Nxf3+,Nxf3,Ne5,Bd2,Nxf3+,Bxf3,c6,Rad1,d5,c4,Be6,cxd5,cxd5,Bc3,Rac8,Qd3,Qc5,Bxg7,Kxg7,Qd4+,Qxd4,Rxd4,Rfd8,Rfd1,Rc5,b4,Rb5,a4,Rb6,b5,Rbd6,e4,fxe4,Bxe4,R6d7,Bf3,a6,bxa6,bxa6,R1d2,Kf6,Be2,a5,Bb5,Rd6,R2d3,Bd7,Bxd7,R8xd7,h4,Ke5,g3,Kf6,Kg2,Kf5', 'Rf4+,Ke6,Re3#', 'https://lichess.org/training/xNtZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xNuEu', 'Classical', 'TerryLiang', 1783, 'gr-1975', 1758, 'c4,c5,Nc3,Nc6,g3,b6,Bg2,Bb7,Nf3,Nf6,O-O,Qc7,d3,O-O-O,a3,a6,Rb1,e6,b4,cxb4,axb4,Bxb4,Bf4,d6,Na4,b5,cxb5,axb5,Nb2,e5,Be3,e4,dxe4,Nxe4,Qb3,Nc3,Rbe1,f6,Nd3,Ba5,Qxb5,Nxb5,Rc1,g5,Nd4,Nbxd4,Bxd4,Qe7,Bxc6,Qxe2', 'Bf3+,Kd7,Bxe2', 'https://lichess.org/training/xNuEu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNUye', 'Classical', 'mountainking6', 1652, 'NiceOneMan', 1634, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,c3,d6,Nbd2,Bg4,b3,a6,b4,Ba7,a4,a5,b5,Ne7,Ba2,Ng6,Qb3,Qd7,Ng5,Nf4,Qc2,Be2,Re1,Qg4,g3,Nh3+,Nxh3,Qxh3,Rxe2,Ng4,Nf3,Kh8,Qd1,f5,Qf1,Qh5,exf5,Rxf5,Be6,Rxf3,Bxg4,Qxg4,Be3,Bxe3,Rxe3,Raf8,Rxf3,Rxf3,Ra2,h6,Kg2,e4,dxe4,Qxe4,Re2', 'Re3+,Kg1,Rxe2,Qxe2,Qxe2', 'https://lichess.org/training/XNUye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xnvOg', 'Blitz', 'Bisonov', 1916, 'Siavoosh', 1932, 'd4,d5,Nf3,Bg4,g3,Bxf3,exf3,Nf6,Bg2,e6,c4,c6,O-O,Bd6,Qb3,Qd7,c5,Be7,Bf4,O-O,Qc2,h6,b4,Qd8,Nc3,Nbd7,a4,Nh5,Be3,Bg5,f4,Be7,b5,Nhf6,Rfb1,Ng4,a5,Nxe3,fxe3,g5,a6,bxa6,bxc6,Nf6,Rxa6,gxf4,gxf4,Ng4,Qd3,Bh4,h3,Bf2+,Kf1,Nxe3+,Kxf2,Nc4,Rb7,Qh4+,Kg1,Qxf4,c7,Rfc8,Rxe6,Rxc7,Rg6+,Kf8,Rxc7,Qxc7,Nxd5,Qa5,Qxc4,Qe1+,Kh2,fxg6,Nf4,g5,Bxa8,Qf2+,Ng2,h5,Qd5,g4,Qd6+,Kg7,Qe6', 'g3+,Kh1,Qf1#', 'https://lichess.org/training/xnvOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XnvWa', 'Blitz', 'IM Nikotheo', 2682, 'Aciboba', 2583, 'd4,Nf6,c4,e6,g3,d5,Bg2,Bb4+,Nc3,dxc4', 'Qa4+,Nc6,Bxc6+', 'https://lichess.org/training/XnvWa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNXgt', 'Rapid', 'elminahadov', 1604, 'denisalehnovitch', 1612, 'e4,Nf6,Nc3,g6,d3,Bg7,g3,b6,Bg2,Bb7,Nf3,Nc6,O-O,d5,exd5,Nxd5,Nxd5,Qxd5,Ng5,Qf5,Bf4,O-O-O', 'Bh3,Qxh3,Nxh3', 'https://lichess.org/training/XNXgt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNxqM', 'Rapid', 'bor123', 1631, 'Elgozi', 1666, 'd4,d5,c4,dxc4,Nf3,b5,Nc3,c6,Ne5,Bb7,a4,a6,axb5,cxb5,b3,cxb3,e3,Nd7,Nxd7,Qxd7,Qxb3,e6,Nxb5,axb5', 'Bxb5,Rxa1,Bxd7+,Kxd7,Qxb7+', 'https://lichess.org/training/XNxqM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xNxwr', 'Rapid', 'kiannoosh', 1897, 'hnj', 1954, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bd3,Bg4,Be3,Nf6,h3,Bh5,c3,Qd7,Nbd2,a6,a3,Bd6,Qc2,O-O-O', 'Bf5,Qxf5,Qxf5+', 'https://lichess.org/training/xNxwr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xnyYj', 'Rapid', 'menzi', 1868, 'psychotic_delima', 1816, 'e4,c5,Nf3,Nc6,Bc4,d6,b3,Nf6,Bb2,Na5,Bb5+,Bd7,Bxd7+,Qxd7,d4,cxd4,Bxd4,g6,Qd2,Nc6,Bc3,Bg7,Qd3,Rc8,a3,O-O,Ra2,a6,O-O,Qg4,Nbd2,Rfd8,Qe3,d5,e5,d4,Nxd4,Nxd4,exf6,Rxc3,fxe7,Re8,Qe1,Ne2+,Kh1,Rxe7,f3,Qg5,Ne4,Qe3,Nxc3,Bxc3,Qd1,Re5,Qd8+,Kg7,Qd3,Qg1+,Rxg1', 'Ng3+,hxg3,Rh5#', 'https://lichess.org/training/xnyYj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNzDb', 'Classical', 'Zvonko13', 1858, 'skelp999', 1907, 'e4,c5,Nf3,Nc6,a3,a6,Nc3,e6,d4,cxd4,Nxd4,d6,Nxc6,bxc6,f4,g6,Be2,Bg7,O-O,Ne7,Rb1,d5,exd5,cxd5,Na2,Nf5,c3,Qb6+,Kh1,Bb7,Bd2,d4,cxd4,Nh4,Bf3,Bxf3,gxf3,Bxd4,Qa4+,Ke7,Be1,Nf5,Nb4,Rhc8,Bc3,Bxc3,bxc3,Rxc3', 'Nd5+,exd5,Rxb6', 'https://lichess.org/training/XNzDb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XNzgu', 'Rapid', 'jenish1', 1917, 'Thealmight', 1816, 'd4,c5,Nf3,cxd4,Qxd4,Nf6,Qd1,e6,Bf4,Be7,e3,O-O,Bd3,Nd5,Bg3,Bf6,c3,Qb6,Qc2,g6,O-O,Nc6,Nbd2,e5,Nc4,Qd8,Ncxe5,Nxe5,Nxe5,Bxe5,Bxe5,Qe7,Bd4,d6,Rfe1,Nf6,e4,Ng4,e5,Qh4,h3,dxe5,Bc5,Re8,Bb5,Bf5,Qa4,Rec8,Be3,Qh5,Be2,Qh4,Bxg4,h5,g3,Qf6,Bxf5,Qxf5,Qh4,b5,Bg5,Rc4,f4,exf4,Bxf4,Rac8,Rad1,Qc2,Rd8+,Rxd8,Qxd8+,Kh7,Qg5,Re4,Qh6+,Kg8,Rxe4,Qxe4,Bd2,Qf3,Qg5,Qd1+,Kf2,Qc2,Qd8+,Kh7,Ke2,Qe4+,Kf2,Qf5+,Kg2,Qe4+,Kg1,Qf3,Qd7,Qxg3+,Kf1,Qf3+,Ke1,Qh1+,Ke2,Qe4+,Kd1,Qf3+,Kc2,Qe4+,Kb3', 'Qa4#', 'https://lichess.org/training/XNzgu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xNZKl', 'Rapid', 'See8', 1869, 'danimarina11', 1883, 'd3,g6,Nd2,Bg7,Ngf3,d6,g3,Nd7,Bg2,Ngf6,O-O,O-O,Re1,Re8,e4,e5,a3,c6,Rb1,Nb6,b3,d5,exd5,Nbxd5,Bb2,Bg4,Qc1,Bh6,Nxe5,Qd6,Nxg4,Nxg4,c4,Ndf6,Qc3,Bg7,Ne4,Qd7,h3,Ne5,Rbd1,Nh5,Nc5,Qd6,Ne4,Qd7,f4', 'Nf3+,Bxf3,Bxc3', 'https://lichess.org/training/xNZKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xnzZ8', 'Rapid', 'FatBeardedMan', 1719, 'Fred_T', 1743, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Bc4,Bg4,f3,Nxe4,fxg4', 'Qh4+,g3,Nxg3,hxg3,Qxh1+', 'https://lichess.org/training/xnzZ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xo0aj', 'Blitz', 'StevensD', 1502, 'andreasR', 1582, 'e4,e5,Nc3,Nc6,Bb5,a6,Bxc6,bxc6,d3,Nf6,f4,exf4,e5,Nd5,Nxd5,cxd5,Bxf4,d6,Nf3,Be7,exd6,Bxd6,Bxd6,Qxd6,O-O,O-O,Re1,Bg4,Qe2,h6,h3,Rfe8', 'Qxe8+,Rxe8,Rxe8+,Kh7,hxg4', 'https://lichess.org/training/Xo0aj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XO0jw', 'Blitz', 'miloboy', 1824, 'lachakaleak', 1820, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,e6,d3,Bd6,h3,Nc6,g4,e5,g5,Nh5,Ne4,Nf4,Bxf4,exf4,Nh4,Nd4,c3,Nf5,Nxf5,Bxf5,Qh5,g6,Qf3,Qe7,O-O-O,O-O-O,Nf6,Qf8,Ba6,c6,Bc4,Be6,Bb3,Bxb3,axb3,h6,h4,hxg5,hxg5,Rxh1,Rxh1,Qe7,Kd2,Qc7,Qg4+,Kb8,Ra1,f3,Qa4,Bf4+,Kc2,a6,Ne4,Qb6,Qa5,Qxa5,Rxa5,Ka7,c4,Bc7,Ra3,Be5,b4,Rf8,b5,cxb5,cxb5,f5,gxf6,Bxf6,bxa6,bxa6,Rb3,Rc8+,Kd2,Bg7,Nd6', 'Bh6+,Kd1,Rc1#', 'https://lichess.org/training/XO0jw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xO1kN', 'Rapid', 'Nuckem', 1900, 'gabrielATHENA', 1882, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,d6,Bb5+,Nd7,O-O,Be7,Re1,c6,Ba4,a5,a3,Ngf6,Bg5,O-O,Ne2,h6,Bxf6,Nxf6,Ng3,c5,Bb3,Rc8,Bc4,d5,Bd3,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Rxe4,Qd5,Re5,Qc6,c3,Bd6,d5,Qc7,Rh5,exd5,Rxd5,Rcd8,g3,Be7,c4,Bf6,Rb1,Rxd5,Qxd5,Rd8,Qe4,Qd7,b3,Re8,Qd5,Qc7,Rd1', 'Rd8,Qxd8+,Bxd8', 'https://lichess.org/training/xO1kN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xo3LJ', 'Rapid', 'yra47', 1892, 'AlexanderAngelov', 1860, 'e4,e5,Bc4,Nf6,Nc3,c6,a3,d5,exd5,cxd5,Ba2,Nc6,h3,Bc5,d3,h6,Nge2,O-O,O-O,Be6,Ng3,Rc8,Kh1,Qd7,Kh2,Bd6,f4,Qc7,Nh5,Nxh5,Qxh5,exf4,Kh1,Ne7,Bb3,a6,Bd2,d4,Ne4,Be5,Rac1,Qd7,Qxe5,Bxb3,cxb3,Ng6,Qd6,Qb5,Bb4,Qxd3,Rxc8', 'Qxf1+,Kh2,Rxc8', 'https://lichess.org/training/xo3LJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xo45A', 'Rapid', 'elchinbaku27', 1805, 'Soltani88', 1826, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,h6,O-O,Nf6,a4,O-O,b4,Be7,Re1,Nxe4,Rxe4,d5,Bxd5,Qxd5,Re1,Bg4,d3,f5,Nbd2,e4,dxe4,fxe4,Nxe4,Qh5,Qb3+,Kh8,Ng3,Qg6,Ne5,Nxe5,Rxe5,Qf6,Rxe7', 'Qxf2+,Kh1,Qf1+,Nxf1,Rxf1#', 'https://lichess.org/training/Xo45A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xO4bC', 'Blitz', 'emmanuelvergara', 2008, 'trinitrini', 2183, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bb4,O-O,O-O,Re1,d6,h3,Ne7,a3,Bc5,Na4,a6,Nxc5,axb5,Nb3,c5,d3,b6,c3,Bb7,Bg5,Ng6,Qd2,h6,Bxf6,Qxf6,Rad1,Nf4,Kh2,Qg6,g3,Ne6,Nh4,Qf6,Nf5,Ng5,Qe2,Ra4,Nd2,d5,h4,dxe4,dxe4,Nxe4,Nxe4,Rxe4,Ne3,Rxh4+,gxh4', 'Qxh4+,Kg1,Qh1#', 'https://lichess.org/training/xO4bC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XOaiL', 'Classical', 'INGxANGELO', 1935, 'dadmoni', 1853, 'd4,d5,Nf3,e6,g3,Nf6,Bg2,c5,O-O,c4,b3,cxb3,axb3,Bd6,Bb2,O-O,Nbd2,Nc6,Re1,h6,c4,dxc4,bxc4,Bb4,e4,a5,d5,exd5,exd5,Na7,Qc2,Bg4,Bc3,Bxc3,Qxc3,Bh5,Qxa5,b6,Qb4,Ne8,Re7,Nc7,d6,Nc6,Rxa8,Qxa8,Qxb6,Nxe7,dxe7,Rc8,Ne5', 'Qa1+,Nf1,Qxe5', 'https://lichess.org/training/XOaiL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XOAV9', 'Blitz', 'RichtersNeighbour', 1948, 'Sergiomeira8', 1985, 'e4,e6,b3,c5,Bb2,a6,d4,cxd4,Bxd4,Nf6,e5,Nd5,c4,Ne7,f4,Nbc6,Bb2,Nf5,g4,Ne3,Qe2,Qh4+,Kd2,Nxf1+,Qxf1,Qxg4,h3,Qf5,Ne2,h6,Ng3,Qg6,Rg1,Bc5,Rg2,b5,f5,Qg5+,Kd1,Qh4,Nd2,Bb7,Nde4,Be7,Nd6+,Bxd6,exd6,Nb4,Rg1,O-O,fxe6,fxe6,Nf5,Qh5+,Kc1,Rxf5,Rxg7+,Kf8,Qg1,Nd3+,Kb1,Nxb2', 'Rg8+,Kf7,Qg7#', 'https://lichess.org/training/XOAV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xob0U', 'Rapid', 'kent_4', 1742, 'daskas10', 1926, 'd4,d5,e3,Nf6,Bd3,Nc6,a3,e5,dxe5,Nxe5,Ne2,Nxd3+,cxd3,Be6,O-O,Bd6,Ng3,O-O,b4,Bxg3,hxg3,c6,Bb2,h6,Nd2,Nh7,f4,Qd7,Nf3,Bg4,Qc1,f6,Nh4,Rfe8,Re1,f5,Qc3,Nf6,Qc2,Re6,Bxf6,Rxf6,e4,dxe4,dxe4,Rd6,e5,Rd2,Qb3+,Kh7,Ra2,Rd8,Rxd2,Qxd2,Ra1', 'Qd4+,Kh2,Qxa1', 'https://lichess.org/training/Xob0U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xodAd', 'Rapid', 'Vongz01', 1659, 'Hampher', 1636, 'e4,c5,Bc4,Nc6,Nf3,f6,d4,e6,d5,exd5,exd5,d6,dxc6,bxc6,Bxg8,Rxg8,O-O,Be7,Re1,Kf7,b3,Rf8,c4,d5,cxd5,cxd5,Nc3,d4,Ne4,Kg8,Ng3,Rf7,Ba3,Qa5,Bb2,Qd8,Rc1,Ba6,Ba3,Rc8,Qc2,d3,Qd2,Bd6,Re4,Re7,Rxe7,Qxe7,Bxc5,Bxc5,b4,Bxf2+', 'Kxf2,Rxc1,Qxc1', 'https://lichess.org/training/xodAd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XOEk1', 'Rapid', 'Arifarslan44', 1938, 'Ogzk98', 2009, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,e5,d3,O-O-O,c4,Qd7,h3,Bh5,Nxe5,Nxe5,Bxh5,Qxd3,Qxd3,Rxd3,Bf4,Nxc4,b3,Bd6,bxc4,Bxf4,Bxf7,Rf8,Be6+,Kb8,Rad1,Ra3,Rd4,Bd6,Rfd1,Rxa2', 'c5,Raxf2,cxd6', 'https://lichess.org/training/XOEk1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xoEx9', 'Classical', 'russmason', 1818, 'Eni_Oro', 1737, 'e4,e5,Nf3,d5,exd5,e4,Nd4,Qxd5,c3,Bc5,d3,Bxd4,cxd4,Qxd4,Nc3,exd3,Bxd3,Qe5+,Be3,Ne7,O-O,O-O,Qc2,Bf5,Bxf5,Nxf5,Bd2,Nc6,Ne4,Nfd4,Qd3,Rad8,f4,Qb5,Qxb5,Nxb5,Rad1,f5,Nc5,Nbd4,Rfe1,b6,Ne6,Nxe6,Rxe6,Nd4,Ree1,c5,Re7,a5,Rb7,Ne2+,Kf2,Nxf4,Rxb6,Nd3+,Kg1,a4,Bc3,Rfe8,Rb7,Ne5', 'Rxd8,Rxd8,Bxe5', 'https://lichess.org/training/xoEx9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XOGMF', 'Rapid', 'Vasily1592', 2005, 'newg', 1863, 'd4,d5,c4,dxc4,e4,b5,a4,c6,b3,Be6,axb5,cxb5,bxc4,bxc4,Bxc4,Bxc4,Qa4+,Qd7,Qxc4,Nc6,Nf3,e6,Bd2,Rc8,O-O,Nf6,Nc3,Bb4,e5,Bxc3,Bxc3,Nd5,Bb2,Ncb4,Qb3,O-O,Rfc1,Rb8,Qa3,Nf4,Kh1,Nbd3,Rc2,Rb7,Bc1,Rfb8,Bxf4,Nxf4,Rac1,g6,Qa5,Nd3,Rf1,Rb5,Qc7,Nxf2+,Rfxf2,Rb1+,Ng1,Rxg1+,Kxg1,Rb1+,Rf1', 'Qxd4+,Rf2,Rxf1+,Kxf1,Qd1#', 'https://lichess.org/training/XOGMF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xOhiR', 'Classical', 'kalpesh2385', 1904, 'sbkale', 1699, 'c4,g6,d4,Bg7,Nf3,Nf6,e3,d6,h3,e6,Bd3,Nbd7,Nc3,b6,O-O,Bb7,a4,a5,Ng5,h6,Nxe6,fxe6,Bxg6+,Ke7,d5,Qg8,f4,Rf8,Nb5,Kd8,Rf2,exd5,cxd5,Nxd5,Qc2,Nc5,e4,Nb4,Qe2,Bd4,f5,Bxf2+,Qxf2,Nbd3,Qh4+,Kd7,Bxh6,Nxe4,Nxc7,Nf6,Nb5,Ne5,Rd1,Nd5,Qg5,Nxg6,Bxf8,Nxf8,Qc1,Rxh3', 'Rxd5,Qxd5,Qc7+,Ke8,Nxd6+,Qxd6,Qxd6', 'https://lichess.org/training/xOhiR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xoIim', 'Rapid', 'redfin222', 1613, 'RustyJames', 1709, 'g4,d5,g5,e5,d4,Nc6,dxe5,Nxe5,Bg2,Be6,Qd4,Nc6,Qf4,Bd6,Qa4,Qd7,Qb5,O-O-O,Nc3,Bb4,Bd2,Nge7,a3,Ba5,O-O-O,Bb6,Be3,Bxe3+,fxe3,Qd6,Ne4,Qe5,Nc5,Rd6,Qxb7+,Kd8,Qa8+,Nc8,Nb7+,Ke7,Nxd6,Kxd6,Qb7,Qxg5,Bf3,Qxe3+,Kb1,Qb6,Qxb6,cxb6,h4,h5,Nh3,Ne5,Nf4,Nxf3,exf3,Ne7,Nd3,Rc8,Nf4,Bf5,Rd2,Rc5,Re1,Ng6,Nxh5,Ne5,Rf1,g6,Nf6,Nc4,Re2,d4,Ne8+,Kc6,Ng7,Ne3,Rc1,d3,cxd3', 'Bxd3+,Ka2,Bxe2', 'https://lichess.org/training/xoIim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XOjG8', 'Rapid', 'Iyas_Ivan', 1663, 'PalmBeachmoe56', 1766, 'e4,e5,Nf3,Bc5,Nc3,Nf6,d4,exd4,Nxd4,O-O,Bd3,Bxd4,Bg5,h6,Bh4,g5,Bg3,Nh7,e5,Qe7', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/XOjG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xoKgo', 'Blitz', 'Negodayi', 1640, 'Majid0631', 1748, 'd4,d5,c4,dxc4,e3,Bf5,Bxc4,e6,Nc3,h6,Nf3,Nf6,O-O,Bd6,b3,O-O,Bb2,Nbd7,Nb5,Be7,Rc1,a6,Nc3,Rc8,h3,Bg6,Nh4,Bh7,Qf3,b5,Be2,c5,dxc5,Nxc5,Rfd1,Qb6,Nb1,Rfd8,Bd4,Qb8,Nc3,Nce4,Nxe4,Bxe4,Qg3,Qxg3,fxg3,Bd6,g4,Ba3,Rxc8,Rxc8,Bf3,Rc2,Bxf6,Bxf3,gxf3,gxf6,Rd8+,Kg7,Ra8,Rc6,Ng2,Bc5,Kf2,Rd6,Ke2,Bb4,a4,bxa4,bxa4,a5,Rc8,Rd2+,Kf1,Ra2,Nf4,Rxa4,Nh5+,Kg6', 'Rg8+,Kh7,Nxf6#', 'https://lichess.org/training/xoKgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xoKuP', 'Blitz', 'Safety_First1', 1869, 'pupuvi', 1870, 'f4,g6,d4,Bg7,Nf3,e6,e3,d6,b3,Ne7,Bb2,O-O,Bd3,b6,O-O,Bb7,Nbd2,c5,c3,cxd4,cxd4,Nd7,Qe2,Nf6,Ba6,Bc6,Bb5,Bb7,g3,a6,Bd3,b5,h3,Nh5,Kh2,Nf5,Bxf5,gxf5,g4,fxg4,hxg4,Nf6,Kg3,e5,dxe5,dxe5,Bxe5,Rc8,Rac1,Qb6,Bxf6,Bxf6,g5,Bg7,Nd4,Rfe8,Rxc8,Rxc8,Qd3,Re8,N2f3,Be4,Qc3,b4,Qb2,Ba8,Qd2,Rd8,Rd1,Qb7,Qb2,Rxd4,Nxd4,Bxd4,Qxd4,Qf3+,Kh4,Qf2+,Kg4,Qf3+,Kf5', 'Qh3+,Kf6,Qe6#', 'https://lichess.org/training/xoKuP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xOlyU', 'Blitz', 'BootsysCraft', 1549, 'raso98', 1541, 'd4,Nf6,Bf4,d5,Nf3,h6,e3,Nc6,Nbd2,a6,c3,e6,h3,Bd6,Bg3,Bxg3,fxg3,Qd6,Ne5,Nxe5,dxe5,Qxe5,Qf3,b6,Bd3,Bb7,O-O,Rb8,g4,d4,exd4,Qg5,Qe2,O-O,Nf3,Qd5,Be4,Qd6,Bxb7,Rxb7,Ne5,b5,Qf3,Rbb8,b4,Nd5,Nxf7,Qc6,Ne5,Qd6,Qe4,Rxf1+,Rxf1,Nxc3,Qg6,Qxd4+,Kh1,Qxe5,Qf7+,Kh7,g5,Ne2', 'g6+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/xOlyU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XONDc', 'Rapid', 'RogerGalo', 1899, 'stembis', 1934, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg5,Be7,O-O-O+,Ke8,Bxf6,Bxf6,Nf3,c6,Bc4,Bg4,h3,Bxf3,gxf3,Nd7,Rd6,Be7,Bxf7+,Kxf7,Rxd7,Rad8,Rhd1,Ke6,Rxb7,Bg5+,Kb1,Rxd1+,Nxd1,Rd8,Nc3,Bd2,Na4,Bh6,Nc3,Rf8,Rxa7,Rxf3,a4,Rxf2,a5,Rf3,a6,Rxh3,Rb7,Be3,a7,Bxa7,Rxa7,g5,Rg7,h6,Rg6+,Kf7,Rxc6,g4,Ne2,Rh2,Ng3,h5,b4,h4,Nf5,g3,Rc7+,Kf6,Rg7,g2,Kb2', 'h3,b5,Rh1', 'https://lichess.org/training/XONDc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xonhu', 'Blitz', 'xBrainMeltx', 2065, 'ali53193', 2120, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bd3,Nf6,O-O,Bg4,Re1+,Be7,h3,Bh5,c3,O-O,Bf4,Bd6,Bxd6,Qxd6,Nbd2,Rae8,Qc2,Rxe1+,Rxe1,Bg6,Bxg6,hxg6,Ne5,Nd7,f4,Re8,Ndf3,Re6,Qd2,Rf6,Nxd7,Qxd7,Ne5,Qf5,Nxc6,Rxc6,Re8+,Kh7,Qe3,Qb1+,Kh2,Qxb2,Qg3,g5,Qxg5,Qxc3,Qh4+,Rh6,Qd8,Qxd4', 'Rh8+,Kg6,Qg5#', 'https://lichess.org/training/Xonhu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XOnWd', 'Rapid', 'chichess506', 1982, 'Rasteeeira', 1893, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Nf6,O-O,Nc6,Re1,e6,Nc3,Bb4,Bd2,O-O,a3,Ba5,b4,Bb6,Be3,Ne4,Nxe4,dxe4,Nd2,Bxe2,Qxe2,Nxd4,Bxd4,Bxd4,Rad1,Bb6,Nc4,Qc7,Nxb6,Qxb6,Qxe4,Rac8,c4,Qa6,c5,Qxa3,Qxb7,Rb8,Qc7,Qxb4,Qxa7,Ra8,Qb6,Qa4,Rc1,Rab8,Qc7,Rfc8,Qd6,Rd8,Qe7,Re8,Qd6,Red8,Qe7,Re8,Qg5,Qa5,Qf4,Rbc8,c6,Rxc6,Ra1,Qb5,Ra7,Rf8,h3,h6,Qg3,Qb6,Rd7,Rc2,Rd6,Qb4,Red1,Qa5,R6d4,Qf5,Rg4,Qf6,Rf4,Qg5,Rg4,Qf6,Rd3,Qa1+,Kh2,Rc1,Qf3,Qe5+,Rg3,f5,Re3,Qa1,Rg6,Rh1+,Kg3,f4+,Kh4,fxe3,Qxe3,Re1,Qxh6,Re4+,g4,Kf7,Qh5,Qe5', 'Rg5+,Ke7,Rxe5', 'https://lichess.org/training/XOnWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XOPlg', 'Classical', 'Liqvidator2006', 1849, 'max_wie', 1922, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Bg4,O-O,Nf6,h3,Bxf3,Qxf3,Nd4,Qd1,c6,fxe5,dxe5,d3,Bc5,Kh1,a5,Bg5,b5,Bxf6,gxf6,Bxf7+,Kxf7,Qh5+,Ke7,c3,Nc2,d4,exd4,Qxc5+,Qd6,Qxd6+,Kxd6,Rxf6+,Ke5,Rxc6,Nxa1,cxd4+,Kxd4,Na3,b4,Nb5+,Kxe4,Rc1,Rab8,Nd6+,Kd5,Rd1+,Ke6,Nc4,Nc2,Rd2,Rb5,Rxc2,Rc5,b3,a4,Re2+,Kf5,Nd6+,Kf4,Re4+,Kg3', 'Rg4+,Kf2,Ne4+,Ke3,Nxc5', 'https://lichess.org/training/XOPlg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XOqL4', 'Blitz', 'FM alanford', 2370, 'mtatar', 2249, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,O-O,Nc6,h3,Bd7,Be3,Rc8,f4,Na5,Bf2,Nc4,b3,Nb6,Nd5,Nfxd5,exd5,e5,dxe6,Bxe6,c4,d5,cxd5,Bxd5,Rb1,Bxg2,Kxg2,Qd5+,Nf3,Rfd8,Qxd5,Rxd5,Rfd1,Rcd8,Rxd5,Rxd5,a4,Bc3,Rc1,Rd3,Ng5,Kg7', 'Rxc3,Rxc3,Bd4+,Kg8,Bxc3', 'https://lichess.org/training/XOqL4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xoRPT', 'Classical', 'coollikeranch', 1682, 'GSP0113', 1613, 'e4,e5,Nf3,Nc6,Bb5,Bd6,d4,Qe7,d5,Nd4,Ba4,Nf6,Nbd2,b6,O-O,Ba6,c4,O-O,Ne1,c6,dxc6,dxc6,Nc2,b5,cxb5,cxb5,Nxd4,exd4,Bb3,b4,Re1,Qe5,Nf3,Qh5,e5,Bc7,exf6,gxf6,Qxd4,Bb7,Qxf6,Bxf3,Qxf3,Qxh2+,Kf1,Kh8,Qf6+,Kg8,Bh6,Qh1+,Ke2,Rae8+,Kf3', 'Qh5+,g4,Qh3#', 'https://lichess.org/training/xoRPT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xoTaA', 'Blitz', 'championman3838', 2569, 'FM ChSalas', 2477, 'e4,e5,Nf3,Nf6,d4,Nxe4,Bd3,d5,Nxe5,Nd7,O-O,Bd6,c4,c6,cxd5,cxd5,Nc3,Nxc3,bxc3,O-O,f4,Nf6,Be3,Re8,c4,dxc4,Bxc4,Be6,Qb3,a6,Bxe6,Rxe6,Rad1,Bf8,f5,Re7,Bg5,Rc7,Ng4,Be7,Ne5,Qd5,Bxf6,Qxb3,axb3,Bxf6,Ng4,Rc3,Nxf6+,gxf6,Rf3,Rxf3,gxf3,Kf8,Kf2,Ke7,Ke3,Kd6,Kd3,b5,Rg1,a5,Rg7,Ra7,Rxh7,a4,bxa4,bxa4,Kc3', 'a3,Rg7,a2', 'https://lichess.org/training/xoTaA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XOtIx', 'Rapid', 'Abu-aser', 2333, 'Die_Nebelkerze', 2249, 'c4,c6,Nc3,d5,cxd5,cxd5,d4,Nf6,g3,Nc6,Bg2,Bf5,Nf3,h6,O-O,e6,e3,Bd6,a3,Rc8,Bd2,O-O,Rc1,Ne4,Be1,Na5,Nb5,Rxc1,Qxc1,Bb8,Nd2,Nxd2,Qxd2,Nc4,Qb4,a6,Nc3,b5,b3,Bd6,bxc4,Bxb4,axb4,bxc4,Na4,Bd3,Bc3,Bxf1,Bxf1,Qc7,Be2,f5,Bd1,Rb8,Nc5,Qd6,Ba4,Kh7,Bd7,a5,bxa5,Rb1+,Kg2,Rc1,Bd2,Rc2,Be1,e5', 'Bxf5+,Kh8,Bxc2', 'https://lichess.org/training/XOtIx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xOUBw', 'Blitz', 'GodlikeMoves', 1851, 'owlymowly', 1864, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,c6,d4,Nf6,c4,Qd6,Nc3,e6,O-O,Be7,a4,a5,b3,Na6,Bg5,O-O,Bxf6,Bxf6,Ne4,Qe7,Nxf6+,Qxf6,Ne5,Bxe2,Qxe2,Rfd8,Rad1,Nb4,f4,g6,g4,Rab8,f5,gxf5,gxf5,exf5,Qh5,Rd6,Rxf5,Qh6,Qxf7+,Kh8,Qc7,Rg8+,Kh1', 'Qxh2+,Kxh2,Rh6+,Rh5,Rxh5#', 'https://lichess.org/training/xOUBw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xOuDn', 'Blitz', 'Vjacheslav1992', 1836, 'santa_morte', 1875, 'e4,e5,c3,Nf6,d3,Bc5,f4,d6,Nf3,Bg4,h3,Bxf3,Qxf3,Nc6,a4,a5,Na3,O-O,Nc4,Nd7,f5,Ne7,Bg5,f6,Bh4,Nb6,Ne3,d5,O-O-O,d4,Nc4,Nxa4,g4,b5,Na3,dxc3,Nxb5,cxb2+,Kb1,Rb8,d4,exd4,Qb3+,Kh8,Qxa4,Nc6,Bg3,Qe7,Nxc7,Qxe4+,Bd3,Qf3,Ne6,Bb4,Nxf8,Rxf8,Bc7,Rc8,Bh2,Ne5,Bxe5,fxe5,Qd7,Rc1+,Kxb2,Qf2+,Kxc1', 'Ba3+,Kb1,Qb2#', 'https://lichess.org/training/xOuDn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xoVXO', 'Blitz', 'MathMike', 1626, 'Yraviyadav', 1657, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,Nc3,c6,O-O,Nf6,d3,Be7,Bg5,O-O,Qd2,Nbd7,Bh6,Ng4,Bxg7,Kxg7,h3,Ngf6,Qg5+,Kh8,Qh6,Ng8,Qxe6,Rf6,Qb3,Rb8,Ng5,Qf8,Rae1,Qh6,Nf7+,Rxf7,Qxf7,Rf8,Qb3,Ngf6,Re3,Nh5,Re2,Qg6,Nd1,Rg8,g3,Nxg3,fxg3', 'Qxg3+,Kh1,Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/xoVXO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XoW8a', 'Rapid', 'Santilozfer', 1665, 'PATOUNE21', 1666, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,c3,a6,Bc4,b5,Bd5,Rb8,d4,Nf6,Bg5,Be7,Bxf6,Bxf6,O-O,O-O,Nbd2,exd4,Bxc6,Bxc6,cxd4,Re8,Re1,Bb7,e5,dxe5,dxe5,Bg5,Qc2,Bxd2,Nxd2,Qg5,f3,Rbd8,Ne4,Bxe4,Rxe4', 'Rd2,Qxd2,Qxd2', 'https://lichess.org/training/XoW8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xOWS2', 'Classical', 'mbb011', 1674, 'ringscore', 1963, 'd4,f5,c4,Nf6,Nf3,e6,Nc3,Bb4,Qc2,Ne4,a3,Bxc3+,bxc3,c5,Bf4,Qa5,Bd2,d6,e3,Nd7,Bd3,Ndf6,O-O,g5,Rfb1,g4,Nh4,Rg8,g3,Qd8,Rb2,b6,Rab1,Bb7,a4,Nxd2,Qxd2,Be4,Ng2,e5,Bxe4,Nxe4,Qc2,Rg5,a5,bxa5,Qa4+,Kf8,Qc6,Rc8,Qd5,Nxc3,Qe6,Nxb1,Rxb1,Rb8', 'Rxb8,Qxb8,Qf6+,Kg8,Qxg5+', 'https://lichess.org/training/xOWS2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xOx3l', 'Blitz', 'WIM Laburi2015', 2174, 'jurakari', 2179, 'e4,d6,d4,g6,f4,Bg7,Nf3,Nf6,Nc3,O-O,Bd3,Na6,a3,c5,Be3,Ng4,Bg1,cxd4,Nxd4,Nc5,Qf3,Nxd3+,cxd3,e5,Nde2,exf4,Nxf4,Ne5,Qe2,Bg4,Qd2,Bh6,Be3,Qh4+,Bf2,Qd8,O-O,f5,Be3,fxe4,Nxe4,d5,Qc3,Bg7,Bd4,dxe4,Bxe5,Bxe5,Qxe5,exd3,h3,Bf5,g4,Qb6+,Kh2,Bd7,Nxd3,Rae8,Qd5+,Be6,Qg2,Qd4,Rad1,Bd5,Qg3,Rxf1,Rxf1,Re2+,Rf2,Re3,Qb8+,Kg7', 'Qf8#', 'https://lichess.org/training/xOx3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XOx3R', 'Rapid', 'matheusmattea', 1949, 'Rokusta', 2001, 'e4,Nc6,Nf3,e6,Bb5,a6,Bxc6,bxc6,O-O,Be7,d4,a5,Re1,Ba6,b3,Nf6,Nc3,O-O,Bb2,d6,h3,d5,e5,Nd7,Re3,c5,Ne2,cxd4,Nexd4,c5,Nc6,Qe8,Nxe7+,Qxe7,c3,f6,exf6,Rxf6,Qd2,Raf8,Rae1,Qd6,c4,d4,Re4,Bb7,Rg4,Bxf3,gxf3,Rxf3,Rf1,h6,Ba3,Kh8,Rxd4,Qe5,Rxd7,Rxh3,f4,Qh5,Qd6,Rh1+,Kf2,Rxf4+,Qxf4,Rh2+,Ke3', 'Qe2#', 'https://lichess.org/training/XOx3R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XoYFj', 'Rapid', 'Bestsimple', 1830, 'dreamer303', 1871, 'e4,c6,d4,Qc7,Nf3,d6,Bd3,e5,O-O,Nf6,c3,h6,h3,g6,Nbd2,Bg7,Re1,Nbd7,Nf1,O-O,Be3,Kh7,Qd2,b5,Kh2,Re8,Rad1,a6,g4,Nb6,Ng3,Nc4,Bxc4,bxc4,g5,Ng8,gxh6,Bxh6,Ng5+,Kg7,Rg1,Nf6,Nf5+,Bxf5,exf5,d5', 'Ne6+,Rxe6,Bxh6+', 'https://lichess.org/training/XoYFj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xp0mN', 'Rapid', 'fabiuscunctator', 1914, 'Maximov33', 1882, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,h6,Bxf6,Bxf6,c5,O-O,Nf3,b6,b4,Bb7,Be2,bxc5,bxc5,Nd7,Rb1,Bc6,O-O,e5,dxe5,Nxe5,Nd4,Re8,f4,Nc4,Nxc6,Qc8,Nxd5,Nxe3,Nxe3,Rxe3,Bf3,Qe8,Re1,Rxe1+,Qxe1,Qd7,Ne7+,Bxe7,Bxa8,Bxc5+,Kh1,Bd6,Rb8+,Kh7,Qe4+,g6,Bd5,Qg4,h3,Qd1+,Kh2,Qf1,Qf3,Qc1,g3,Qd2+,Qg2,Qd4,Bxf7,h5,Bg8+,Kg7,Bd5,h4,Rg8+,Kf6,Qe4,hxg3+,Kxg3,Qc3+,Qf3,Qe1+,Kg2,Qd2+,Qf2', 'Qxd5+,Kg3,Qxg8', 'https://lichess.org/training/xp0mN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XP1i0', 'Rapid', 'Ayush514', 1930, 'arjunchowdhary', 1603, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Nf6,d3,Bb4+,c3,Bd6,O-O,Be6,Re1,Qd7,d4,exd4,e5,Bxh3,exf6+,Kd8,fxg7,Rg8,Bg5+,Kc8,Qxd4,b6,gxh3,Qxh3,Qh4,Qxf3,Nd2,Qf5,Ne4,Rxg7,Nd2,Rxg5+,Kf1,Qb5+,c4,Qf5,Ne4,Rg4', 'Nxd6+,cxd6,Re8+,Kc7,Qe7+,Qd7,Qxd7+,Kxd7,Rxa8', 'https://lichess.org/training/XP1i0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XP2A6', 'Blitz', 'Zefirotorna', 1588, 'Dzianis', 1566, 'e4,g6,c4,Bg7,Nc3,c6,d4,d6,f4,Qa5,Nf3,Nd7,Bd3,Ngf6,O-O,b5,e5,bxc4,Bxc4,Nd5,exd6,Nxc3,Bd2,Nxd1,Bxa5,Ne3,Rfe1,Nxc4,Rxe7+,Kf8,Rae1,Ba6,Rxd7,Nxa5,Ree7,Bc4,Ng5,Bxd4+,Kh1,Bf6,Rxf7+,Bxf7,Rxf7+,Ke8', 'd7+,Kd8,Ne6#', 'https://lichess.org/training/XP2A6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xP2gH', 'Rapid', 'moolla', 1770, 'brandon71901', 1783, 'd4,d5,Bf4,Bf5,Nf3,e6,e3,Nd7,Nbd2,Ngf6,c4,c5,cxd5,exd5,dxc5,Bxc5,Rc1,O-O,Be2,Rc8,h3,Re8,O-O,Qb6,Nb3,Bd6,Bxd6,Qxd6,Nbd4,Be4,Bd3', 'Rxc1,Qxc1,Bxd3', 'https://lichess.org/training/xP2gH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xp2uU', 'Rapid', 'SEL2525', 1819, 'Chinama', 2014, 'e4,g6,d4,Bg7,Nf3,b6,Bc4,Bb7,Qe2,e6,Bb3,c6,c3,Ne7,O-O,O-O,Bf4,d5,exd5,cxd5,Be5,Nbc6,Bxg7,Kxg7,Ne5,Rc8,Nd2,Nf5,Ndf3,Nd6,Bc2,Ne7,Rac1,Nef5,h3,Rc7,Nh2,Qc8,Qd2,Ba6,Rfe1,Bb7,Nf1,Ne4,Bxe4,dxe4,Ne3,Rd8,Nxf5+,exf5,Qg5,h6,Qf4,Qe6,Nxg6,Qc8,Nh4,Rd5,g4,fxg4,Rxe4,Rg5,Re5,f6,Rxg5+', 'hxg5,Qxg4,Qxg4+,hxg4,gxh4', 'https://lichess.org/training/xp2uU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xp4Dx', 'Blitz', 'Indra_nizam', 1694, 'Rey4', 1703, 'e4,e5,d3,Nc6,f4,f6,fxe5,fxe5,Nf3,Bc5,c3,Nf6,d4,exd4,cxd4,Bb6,Be2,O-O,Be3,d6,Nbd2,Ba5,O-O,Bxd2,Qxd2,Nxe4,Qd3,Nf6,Bg5,Qd7,Bxf6,Rxf6,Ng5,Rxf1+,Rxf1,g6,Bh5,Qg7,Bd1,Bf5,Bb3+,Kh8,Qf3,Nxd4,Qxb7,Rf8,Nf7+,Rxf7,Bxf7,Qxf7,Qxa7,Qc4,b3,Ne2+,Kf2,Qc2,Kf3,Be4+,Kg4,Qc3', 'Qb8+,Kg7,Qf8#', 'https://lichess.org/training/Xp4Dx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xp4mn', 'Blitz', 'JACT24', 1732, 'WaddahZekri', 1683, 'd4,e6,Bf4,c5,e3,cxd4,exd4,Nf6,Nf3,Nd5,Bg3,Nc6,c3,g6,Bd3,Bg7,Nbd2,Qb6,Qb3,Nce7,Nc4,Qxb3,axb3,Nf5,Be5,Bxe5,Nfxe5,Nf4,Bxf5,exf5,Nd6+,Ke7,Nxc8+,Raxc8,O-O,a6,b4,Rhe8,Rfe1,Kf8,Nxd7+,Kg7,Nc5,Rxe1+,Rxe1,Rc7,g3,Nd5,Re5,Nf6,f3,h5,Kf2,Nh7,h4,Nf6,d5,a5,d6,Rc6,bxa5,Rxd6,Nxb7,Rd2+,Ke3,Rxb2,a6,Nd7,Ra5,Nb6,Kd3,Rb1,Kc2,Re1,Rb5,Na8,a7,Re7,Kb3,Nc7,Nd6,Nxb5,a8=Q,Nxd6,Qc6,Ne8,Qc5,Re6,Qd4+,Kh7,c4,Nc7,c5,Nb5,Qd7,Re3+,Kb4,Nc3,Qxf7+,Kh6,Qf8+,Kh7,Qf7+,Kh6,Qb7,Nd5+,Ka5', 'Ra3+,Kb5,Rb3+,Kc6,Rxb7', 'https://lichess.org/training/xp4mn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XP4yM', 'Blitz', 'BlackSwordsman3', 2308, 'FM aaryan_varshney', 2554, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nbd7,g4,b5,Bxf6,Nxf6,g5,Nd7,f5,O-O,Qg3,b4,Nce2,e5,Nb3,f6,g6,h6,Ng1,a5,Qd3,Nb6,Nd2,a4,Kb1,Bb7,Ngf3,Rfd8,Nc4,Ba6,b3,Bxc4,bxc4,Qc5,Nd2,Rac8,Be2,Qa5,Ka1,Rc5,Rb1,Nd7,Rb2,Rb8,h4,Kh8,Rg1,Bf8,Rf1,Qa7,a3,bxa3,Qxa3,Rxb2,Qxb2,Rc8,Rb1,a3,Qc3,d5,exd5,Bc5,Nb3,Bd6,Ka2,Nb6,Na5,Na4,Qd2,Bc5,Nc6,Qc7,Qa5', 'Qxa5,Nxa5,Nc3+', 'https://lichess.org/training/XP4yM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xP5PO', 'Blitz', 'franci_et', 1653, 'solover', 1675, 'e4,e6,d4,Qf6,Nc3,a6,Nf3,Nc6,Bc4,Qg6,Kf1,h5,d5,Nd8,e5,b5,Bd3,f5,dxe6,dxe6,Nd4,c5,Nde2,c4,Bf4,cxd3,Qxd3,Bb7,Ng3,h4,Rd1,Qf7,Nge2,h3,Rg1,hxg2+,Ke1,Rxh2,Ng3,Rh4,Bg5,Rg4', 'Qxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/xP5PO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XP66D', 'Rapid', 'XuanII', 1938, 'batbayar8', 1772, 'e4,e5,Nc3,Nc6,f4,d6,Nf3,Nf6,Bc4,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,Be7,O-O,O-O,d3,a6,a4,c6,f5,d5,exd5,cxd5,Ba2,Bc5,Kh1,Nc6,Bg5,d4,Ne4,Be7,Bxf6,Bxf6,g4,Bh4,f6,gxf6,Qf3,Nb4,Bb3,Rc8,Qf5,Nxc2,Qh5,Bg5,h4,Bf4,Rxf4,exf4,Qh6,Nxa1,Nxf6+,Qxf6,Qxf6,Nxb3,h5,Rc6,Qxf4,Re8,h6,Kh8,Qg5,Rg6,Qf4,Reg8,Kh2,Re8,g5,Kg8,Kh3,Nc5,Kg4,Ne6,Qf3,Nxg5,Qxb7,Ne6+,Kf3,Rxh6,b4,Rg6,b5,axb5,Qxb5,Kg7,Qxe8,h5,Qb8,h4,a5,h3,Qe5+,Kh7,Qh5+,Rh6,Qxf7+', 'Ng7,Qd5,h2', 'https://lichess.org/training/XP66D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XPaej', 'Rapid', 'Timoy55', 1841, 'const505', 1886, 'd4,d5,Bf4,Bg4,Nf3,Bxf3,exf3,e5,Bg3,Nc6,dxe5,Bb4+,c3,Bc5,Bd3,Nge7,O-O,d4,Nd2,O-O,Ne4,Bb6,c4,Nb4,Ng5,h6,Nh7,Re8,Be4,c6,a3,Na6,f4,Nc5,Bd3,Nxd3,Qxd3,Ng6,f5', 'Nxe5,Bxe5,Rxe5', 'https://lichess.org/training/XPaej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XPakT', 'Rapid', 'pawn-daddy', 1755, 'Raclot', 1704, 'Nf3,Nf6,d4,g6,c4,Bg7,Nc3,O-O,Bg5,h6,Bd2,d5,e3,Bf5,Be2,c5,cxd5,Nxd5,O-O,Nc6,Qb3,Nxc3,bxc3,cxd4,cxd4,Rb8,Bc4,a6,a4,e6,Rfd1,Re8,h3,Be4,Nh2,Qg5,f3,Bd5,e4,Bxc4,Qxc4,Bxd4+', 'Qxd4,Nxd4,Bxg5', 'https://lichess.org/training/XPakT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xPGFp', 'Rapid', 'oee', 1700, 'moenia_mundi', 1785, 'd4,Nf6,h3,d5,e3,c5,c3,Nc6,Nf3,e6,Bb5,Bd6,Bxc6+,bxc6,a3,Qc7,b4,cxd4,cxd4,e5,dxe5,Bxe5,Nxe5,Qxe5,Ra2,Ba6,Bb2,Qg5,Bxf6,Qxf6,Nd2,g5,Qf3,Ke7,Rc2,Qa1+,Qd1,Qxd1+,Kxd1,Rac8,Nf3,f6,Nd4,Kd6,Nf5+,Ke5,Nh6,Rhf8,Ng4+,Ke6,Re1,h5,Nh2,Bc4,Kc1,c5,e4,cxb4,exd5+,Kxd5,axb4,Bb3,Rxc8,Rxc8+,Kb2,Ba4,Ka3,Bb5,Nf3,Rc3+,Kb2,Rc7,g4,hxg4,hxg4,Kc4', 'Rc1+,Kd5,Rxc7', 'https://lichess.org/training/xPGFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xpgij', 'Classical', 'domer1708', 2169, 'bolgarrior', 2088, 'd4,c5,d5,d6,e4,e5,f4,exf4,Bxf4,Nd7,Nf3,Qc7,Nc3,a6,a4,g6,Bd3,Bg7,O-O,Ne7,Qe1,O-O,Qg3,Ne5,Nxe5,Bxe5,Bxe5,dxe5,Rae1,Kg7,Nd1,Bd7,Ne3,f6,Nf5+,Bxf5,exf5,g5,h4,h6,Bc4,Rad8,Rd1,Qd7,Qg4,Nc8,Qh5,Qf7,Qf3,Nd6,Bd3,c4,Be4,Rg8,h5,Kh7,g4,Qc7,Kh2,Rc8,c3,Qb6,Rd2,Rc5,Qe3,Rgc8,Re1,Qb3,Ra1,Ra5', 'Ra3,Rac5,Rxb3', 'https://lichess.org/training/Xpgij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XPHal', 'Blitz', 'VolpinoPincher', 2235, 'Donotwakeme', 2178, 'd4,d6,Nf3,g6,c4,Bg7,Nc3,Nc6,e4,e5,Be3,Bg4,d5,Nce7,Be2,f5,exf5,Nxf5,Bg5,Nf6,h3,Bxf3,Bxf3,O-O,Ne4,Nd4,Be2,Qe8,Nxf6+,Bxf6,Bxf6,Rxf6,O-O,Qf7,Bd3,Rf8,f3,Rf4,Be4,Qe7,Qd3,Qg5,Kh2,Nf5,Bxf5,R8xf5,Rae1,Rd4,Qc3,Rd2,Rg1,Qf4+,Kh1,Rh5,Re4', 'Rxh3+,gxh3,Rh2#', 'https://lichess.org/training/XPHal');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xPI1M', 'Blitz', 'Ryland2425', 2199, 'Zevutel_Sdutel', 2167, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Be2,Nc6,O-O,e5,d5,Ne7,Ne1,Ne8,Nd3,f5,f3,f4,Bd2,g5,b4,h5,h3,Ng6,a4,Rf7,c5,Bf8,Rc1,Rg7,Nb5,a6,Na3,Nf6,Nf2,g4,fxg4,hxg4,hxg4,Rh7,a5,Nd7,c6,bxc6,Rxc6,Qh4,Re1,Nf6,Bf3,Qh2+,Kf1,Nh4,Qe2,Nxg4,Nxg4,Bxg4,Bxg4', 'Qh1+,Kf2,Qxg2#', 'https://lichess.org/training/xPI1M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XpIxn', 'Classical', 'Carlo_Rossi', 2009, 'GM Enialios', 2375, 'd4,Nf6,c4,e6,Nc3,d5,Bf4,dxc4,e3,Nd5,Bxc4,Nxf4,exf4,Nd7,Nf3,Nb6,Be2,Bd6,g3,Nd5,O-O,Nxc3,bxc3,O-O,Ne5,c5,Bf3,cxd4,cxd4,Rb8,d5,Re8,Rb1,exd5,Bxd5,Bxe5,fxe5,Be6,Bxe6,fxe6,Qb3,Qd4,Rfe1,b6,Rbd1,Qg4,Rd6,Qf5,Rd7,Rf8,f4,Rf7,Red1,Rxd7,Rxd7,Rc8,Qd1,h6,Rxa7,Qe4,Ra4,Qe3+,Kg2,Rc1,Qd4,Qe2+,Qf2,Qd1,Rd4,Qh1+,Kh3,Qc6,Rd6,Qe4,Rd4,Qf5+,Kg2,Rc2,Rd2,Qe4+,Kh3,Qf5+,Kg2,Qe4+,Kh3,Rc3,Qxb6,Qxf4,Qxe6+,Kh7,Rd1,h5,Rd6,Qf1+,Kh4,Rc4+,Kg5', 'Rg4+,Qxg4,hxg4', 'https://lichess.org/training/XpIxn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xpK5P', 'Rapid', 'Welat11', 1819, 'ANIRALSHARMA', 1830, 'e4,e5,d3,Nc6,c3,d6,Qf3,Nf6,Be2,Bg4,Qg3,Bxe2,Nxe2,Qd7,O-O,O-O-O,b4,h5,a4,h4,Qe3,h3,g3,Kb8,b5,Ne7,c4,Ng4,Qd2,f5,f3,Nf6,a5,f4,g4,Nxg4,Nec3,Ne3,Rf2,Rh6,Qb2,Rg6+,Kh1,b6,axb6,cxb6,Nd5,N7xd5,exd5,Qf5,Qe2,Qg5,Qe1,Qf5,Qe2,Be7,Bxe3,Bh4,Rf1,fxe3,Qxe3,Rg2,Nd2,Qg6,Ne4', 'Rxh2+,Kxh2,Qg2#', 'https://lichess.org/training/xpK5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xpkUJ', 'Rapid', 'Vladimir_1948', 1941, 'Alentejano39', 1882, 'd4,d5,c4,e6,Nc3,c6,Nf3,Bb4,e3,Nf6,Ne5,Ne4,Qc2,O-O,Bd3,Qg5,O-O,f5,f3,Nxc3,bxc3,dxc4,Nxc4,Be7,f4,Qh6,e4,Qh5,Be3,Nd7,Rf3,Nf6,Rh3,Qe8,exf5,exf5,Bxf5,Bxf5,Qxf5,g6,Qd3,Nd5,Rf1,Bd6,Ne5,Bxe5,dxe5,Nxe3,Rxe3,Rd8,Qe4,Qe6,h3,Qxa2,e6,Rd2,e7,Re8,Rg3,Qf7,Re3,Rd7,Rfe1,Qf6,g4,Kf7,Qc4+,Rd5,f5,gxf5,Rf1,Kg7,gxf5,Rxe7,Rg3+,Kf8,Qg4,Qg7', 'f6,Qxg4,fxe7+', 'https://lichess.org/training/xpkUJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XpkzK', 'Rapid', 'miguelm191', 1686, 'Arican', 1716, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,Nb6,Bb3,Nc6,Nf3,e5,d3,Bg4,h3,Bh5,Be3,Nd4,Bxf7+,Bxf7,Nxe5,Nc6,Nxf7,Kxf7,Qh5+,Kg8,O-O-O,Bb4,Ne4,Qd5,Qg4,Qxa2,Nf6+,Kf8,c3,Qa1+,Kc2,Qa4+,Kb1,gxf6,cxb4,Nxb4,Bc5+,Kf7,Bxb4,Rhg8,Qh5+,Kg7,Qg4+,Kh8,Qf4', 'Nd5,Qc4,Nxb4', 'https://lichess.org/training/XpkzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xpLE1', 'Rapid', 'IamJourney', 1601, 'vaddo21', 1607, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Bd6,d4,Bb4,Nxe5,Nf6,f3,O-O,O-O,c5,d5,Qd6,Nc4,Qe7,d6,cxd6,Nb6,Rb8,Ncd5,Nxd5,Nxd5,Qd8,Bf4,Be6,Nxb4,cxb4,Bxd6,Qb6+,Rf2,Rfd8,e5,Rbc8,Qd2,f6,f4,fxe5,fxe5,a5,Qg5,Rxc2,Rf1,Bc4', 'Qxd8+,Qxd8,Rf8+,Qxf8,Rxf8#', 'https://lichess.org/training/xpLE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XpLY0', 'Classical', 'ElisabethII', 1603, 'jhufgty', 1684, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bc4,d5,exd5,cxd5,Bxd5,Qf6,Qe2+,Ne7,Bxa8,c6,O-O,O-O,Be3,Qe5,Nc3,Bxe3,fxe3,Qc7,Rad1,Be6,Bxc6,Nxc6,Rd2,Ne5,Rfd1,Bg4,Qb5,Bxd1,Rxd1,Ng4,g3,Nxe3,Rd2,g6,Rd7,Qc8,Rxa7,Nxc2,Nd5,Kg7,Rc7,Qf5,Qc4,Re8,Qc3+,Re5,Re7,Nd4,Qxd4,Qb1+,Kg2,Qc2+,Kh3,Qf5+,Kg2,Qc2+,Kf3', 'Qe2+,Kf4,g5#', 'https://lichess.org/training/XpLY0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xPnEl', 'Blitz', 'isar63', 1615, 'Locoboy', 1603, 'e4,e5,Nf3,Nf6,d4,exd4,e5,Qe7,Qxd4,d6,Qe3,dxe5,Qxe5,Nc6,Qxe7+,Bxe7,Bb5,Bf5,Nd4,Be4,Nxc6,bxc6,Bxc6+,Bxc6,O-O,O-O,Nc3,Rfe8,Bf4,Bd6,Bxd6,cxd6,Rad1,d5,h3,Rab8,b3,Ne4,Nxd5,Bxd5,Rxd5,Rbc8,c4,Nc3,Rd7,Nxa2,Rxa7,Nb4,Rd1,Red8,Re1,Re8,Rd1,Rcd8,Rc1,Re2,c5,Rb2,c6,Rc8,c7,Nd5,Rc5,Ne7,Rb5,Nc6,Rc5,Nd4,Rd5,Ne6,Rb7,g6', 'Rb8,Rb1+,Kh2,Kg7,Rxc8', 'https://lichess.org/training/xPnEl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xPnq3', 'Blitz', 'Grishuk2789', 2464, 'IM Frutek', 2433, 'c4,Nf6,Nc3,e6,e3,Bb4,Nf3,O-O,d4,d5,Bd3,a6,Bd2,dxc4,Bxc4,b5,Be2,Bb7,O-O,Nbd7,Rc1,Bd6,Qc2,e5,dxe5,Nxe5,Nxe5,Bxe5,Rcd1,Qe7,a3,c5,Qf5,c4,Bf3,Rfe8,Bxb7,Qxb7,Bc1,Bxc3,bxc3,Ne4', 'Rd7,Qxd7,Qxd7', 'https://lichess.org/training/xPnq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XPOid', 'Rapid', 'eldecamer84', 1652, 'aftanator', 1652, 'd4,d5,c4,dxc4,Nc3,Nf6,e3,Nc6,Bxc4,Bf5,Qb3,e6,Qxb7,Na5,Qb5+,Qd7,Qxa5,c6,Nf3,Bd6,Nb5,Rb8,Nxd6+,Qxd6,Ne5,O-O,Bd2,Ne4,a3,Rxb2,Bb4,c5,Bxc5,Nxc5,Qxc5,Qd8,O-O,Qh4,Qxa7,Rc2,Bd3,Bxd3,Nxd3,Qe4,Ne1,Rd2,Nf3,Re2,Rac1,Ra8,Ng5,Qd5,Qxf7+,Kh8,Rc7,Rg8,Qxe6,Qxg5,a4,Rf8,Rc8,Qf6,Qe8', 'Qxf2+,Rxf2,Re1+,Rf1,Rxf1#', 'https://lichess.org/training/XPOid');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xpPQf', 'Blitz', 'Tarrascher', 1825, 'Bourbon-N-GingerGM', 1758, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,Be7,d4,exd4,exd4,O-O,d5,Nb8,Bd3,Re8,O-O,d6,Qc2,h6,Be3,Ng4,Bf4,Nf6,Nd4,Nh5,Bg3,Nxg3,fxg3,Bf6,Rxf6,Qxf6,Ndb5,Re7,Rf1,Qe5,Qf2,a6,Nd4,Nd7,Nf5,Re8,Nxh6+,gxh6', 'Qxf7+,Kh8,Qh7#', 'https://lichess.org/training/xpPQf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XpqPu', 'Rapid', 't3vht', 1841, 'gokukuku', 1870, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,Qc2,Nc6,Bg5,d6,e3,Bf5,Bd3,Bxd3,Qxd3,Nb4,Qd1,c5,a3,Nc6,O-O,cxd4,exd4,Qb6,d5,Ne5,Nxe5,dxe5,Qc2,Rac8,Bxf6,Bxf6,Ne4,Bg7,c5,Qd8,Rad1,f5,Ng5,Qa5,Ne6,Rfe8,Rd3,e4,Re3,Be5,b4,Qb5,Qb3,a5,d6,Kh8,Nc7,Rxc7,dxc7,Bxc7,Rd1,a4,Qe6,b6,Rd7,Bf4,Re1,Bg5,cxb6,Rb8,Red1,Qe2,Rd8+', 'Rxd8,Qe5+,Bf6,Qxf6+,exf6', 'https://lichess.org/training/XpqPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XPr8M', 'Rapid', 'aquarius025677', 1968, 'HenrikW', 1980, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb4+,Nbd2,Bxd2+,Bxd2,d6,O-O,Nge7,Bc3,O-O,Bd3,Bg4,e5,Bxf3,Qxf3,dxe5,dxe5,Ng6,Rfe1,Re8,Rad1,Qe7,Qh5,Rad8,g3,Nd4,f4,Qc5,Bxd4,Rxd4,Kh1,Red8,f5,Nxe5,Bb1,Rxd1,Rxd1,Qc6+,Kg1,Nf3+', 'Qxf3,Rxd1+,Qxd1', 'https://lichess.org/training/XPr8M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xpsgs', 'Classical', 'cma4', 2193, 'gvinplenas', 2136, 'd4,g6,c4,Bg7,Nc3,c5,Nf3,cxd4,Nxd4,Nc6,Be3,d6,g3,Ne5,Bg2,Ng4,Qd2,Nxe3,Qxe3,Nh6,O-O,O-O,h3,Rb8,Rfd1,Nf5,Nxf5,Bxf5,Rac1,b6,b3,Bc8,Nd5,Re8,Nb4,Bb7,Bxb7,Rxb7,Qf3,Qc8,h4,h5,Nd3,Bh6,e3,Bg7,Nf4,Rb8,Qd5,Qc5,Nd3,Qc7,Rc2,Rec8,Nb4,Qc5,Na6,Qxd5,Rxd5,Rb7,a4,Bf8,Rb5,Rd7,Rd2,Rdd8,e4,Bg7,Rd3,Bf6,f4,Bb2,a5,bxa5,Rxa5,e5,Kg2,Bd4,Kf3,f5,Nb4,Rc5,Rxc5,Bxc5,Nd5,fxe4+,Kxe4,exf4,Nxf4,Kf7,Rf3,Re8+,Kd3,Kg7,Nd5,a5,Rf1,g5,Rf5,gxh4,gxh4,Kg6,Rg5+,Kh6,Rxh5+,Kxh5', 'Nf6+,Kxh4,Nxe8,Kg5,Ke4', 'https://lichess.org/training/xpsgs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xpu0J', 'Rapid', 'nomadic_48', 1636, 'Irisieda', 1700, 'e4,e6,Nf3,d5,e5,c5,c4,d4,d3,Nc6,Bg5,Qc7,Bf4,Nge7,Be2,Ng6,Bg3,Ngxe5,Nxe5,Nxe5,f4,Nc6,f5,Qd7,fxe6,Qxe6,O-O,Bd6,Bxd6,Qxd6,Bh5,O-O,Qf3,Be6,Nd2,Ne5,Qf4,Rad8,Ne4,Qc7,Qg3,b6,Rf2,Rd7', 'Nf6+,Kh8,Nxd7', 'https://lichess.org/training/xpu0J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XpU1V', 'Rapid', 'cremant3', 1655, 'Ilijaf4', 1630, 'd4,g6,c4,b5,e3,Bg7,cxb5,a6,bxa6,Nxa6,Bd2,Bb7,Nf3,c5,Bc3,Nh6,Be2,O-O,O-O,Qc7,dxc5,Bxc3,Nxc3,Nxc5,Nb5,Qb8,Qd4,Ne6,Qxd7,Rd8,Qxe7,Ng4,Qh4,f5,h3', 'Bxf3,hxg4,Bxe2', 'https://lichess.org/training/XpU1V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XPuDQ', 'Rapid', 'white_slonik', 2059, 'bronze_dragon', 2044, 'e4,e5,Nc3,Nc6,Bc4,Bc5,d3,d6,Nge2,Be6,Bb5,Ne7,O-O,O-O,Na4,Bb6,Nxb6,axb6,f4,f6,f5,Bf7,Ng3,Nd4,Bc4,d5,Bb3,c5,c3,Ndc6,Qg4,Kh8,Nh5,Rg8,Rf3,c4,exd5,cxb3,dxc6,Rxa2,Rb1,bxc6,Rg3,Bxh5,Qxh5,Qd7', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/XPuDQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xpv7J', 'Rapid', 'Agdrlk55', 2216, 'championamir', 2260, 'e4,e5,Nc3,Nc6,Bc4,Nf6,Nge2,Bc5,O-O,d6,a3,a6,b4,Ba7,Bb2,Bg4,d3,Nd4,h3,Bxe2,Nxe2,Nxe2+,Qxe2,O-O,Kh1,h6,f4,Nd7,f5,Qg5,Bc1,Qh4,Be3,Nf6,Bxa7,Rxa7,Qf2,Qh5,Qxa7,Qg5,Qf2,Nh5,Kh2,Nf4,g3,Nh5,h4,Qe7,d4,Nf6,dxe5', 'Ng4+,Kh3,Nxf2+', 'https://lichess.org/training/Xpv7J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xPvNj', 'Rapid', 'Rumcajsek', 1718, 'thomire', 1632, 'e4,e5,d4,exd4,Bc4,Nc6,Nf3,Qf6,O-O,h6,e5,Nxe5,Re1,Bd6,Bf4,Qxf4,Qe2,Ne7,Nxe5,Bxe5,Qxe5,Qxe5,Rxe5,d6,Re4,c5,Na3,a6', 'Rae1,Be6,Bxe6', 'https://lichess.org/training/xPvNj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xPwAV', 'Classical', 'GraafvandenBosch', 2176, 'Dr-ray', 2044, 'Nf3,d5,d4,Nf6,c4,e6,e3,Be7,Nbd2,Nbd7,Bd3,a6,O-O,dxc4,Nxc4,b5,Nce5,Bb7,Qc2,c5,Nxf7,Kxf7,Ng5+,Kg8,Nxe6,Qb6,Nf4,c4,Bxc4+,bxc4,Qxc4+,Kf8,Ne6+,Kf7,Ng5+,Kg6,Qf7+,Kxg5,e4+,Kh4,Qxg7,Nxe4,Qxe7+,Ndf6,Qe5,Qd6,g3+,Kg4,f3+,Kh3', 'Qf5+,Ng4,Qxg4#', 'https://lichess.org/training/xPwAV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xPwCf', 'Rapid', 'HaroldJNoah', 1980, 'MBY4207', 1973, 'g3,c5,Bg2,d5,c4,Nf6,cxd5,Nxd5,e4,Nc7,Nc3,Nc6,Nge2,e5,O-O,Be7,d3,Ne6,f4,Ned4,fxe5,Nxe5,Nxd4,Qxd4+,Kh1,Qxd3,Qxd3,Nxd3,Nd5,Bd6,Rb1,Be6,Be3,Bxd5,exd5,O-O-O,Rxf7,Rde8,Bg1,Re2,b4,Nxb4,a3,Nd3,Rbxb7,Nf2+,Bxf2,Rxf2,Rxa7,Kb8,Rxg7,Re8,Rab7+,Kc8,h4,Re1+,Kh2,Ree2,Ra7,Rxg2+,Kh3,Rh2+,Kg4,Re8', 'Ra8+,Bb8,d6', 'https://lichess.org/training/xPwCf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XPwru', 'Blitz', 'horas_petrosian', 2014, 'EchoZidane', 1915, 'd4,d5,Bf4,Nc6,e3,Bf5,Be2,e6,h4,Bb4+,c3,Bd6,Nd2,h5,g4,hxg4,Bxg4,Rxh4,Rxh4,Qxh4,Bxf5,Bxf4,exf4,exf5,Qf3,O-O-O,O-O-O,Nf6,Qg3,Qg4,Ngf3,Ne4,Nxe4,dxe4,Qxg4,fxg4,Ng5,f5,Ne6,Rd7,d5,Ne7,c4,b6,Nxg7,Nxd5,Rxd5,Rxg7,Rxf5', 'e3,fxe3,g3,Rd5,g2', 'https://lichess.org/training/XPwru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XpXll', 'Rapid', 'Yokip', 2253, 'Nitrex', 2299, 'e4,e5,Nf3,d5,d4,c6,Nxe5,Nf6,exd5,Bd6,dxc6,Nxc6,Nxc6,bxc6,Be2,O-O,O-O,Qc7,h3,Rd8,Bf3,Rb8,c4,Bh2+,Kh1,Be5,Be3,Bxd4,Bxd4,c5,Be5', 'Rxd1,Rxd1,Qxe5,Rd8+,Ne8', 'https://lichess.org/training/XpXll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XPYFn', 'Classical', 'Devdutta_94', 1855, 'GeorgeAH2020', 1740, 'e4,d6,d4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nd2,Nf6,f3,e5,c3,exd4,cxd4,d5,e5,Nd7,a4,Bb4,Ne2,O-O,Nc3,Qh4+,Kf1,Qxd4,Ne2,Qxe5,Kf2,Rae8,Ng3,Qe3+,Kf1,Bc5,Qe2,Qxe2+,Nxe2,Re6,Nf4,Re7,Nb3,Rfe8,Bd2,a6,Nxc5,Nxc5,Bb4,b6,Kf2,g5,Bxc5,bxc5,Nh5,Re2+,Kg3,R8e6,b3,d4,Rhc1,d3,Rxc5,d2,Rxg5+,Kf8,Rd1,Rd6,Rc5,Re1,Rxd2,Rxd2,Rxc6,Rb1,Rxc7,Rxb3,Ra7,Rd5,Nf6,Rg5+,Kh3,a5', 'Nxh7+,Kg7,Nxg5', 'https://lichess.org/training/XPYFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XPzvI', 'Rapid', 'hassotasso', 2050, 'pedroSuareZ', 2104, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,b6,Bg5,Bb7,e3,h6,Bxf6,Qxf6,Be2,O-O,O-O,d6,h3,Nd7,a3,Bxc3,bxc3,e5,Qa4,Rfd8,Rab1,c5,Rfd1,Rac8,d5,e4,Nd2,Qxc3,Nxe4,Qe5,Bd3,Ra8,Ng3,Qg5,Nf5,Ne5,Kh2,Nxd3,Nxh6+,gxh6,Rxd3,Kh7,Qc2,Qg6,Rbd1,Rg8,f3,Bc8,e4,Bd7,Re1,Ba4,Qf2,Bc2,Rc3,Ba4,f4,Qf6,Rf3,Rae8,e5,Qe7,Rfe3,Qd7,e6,fxe6,dxe6,Qg7,f5,Rgf8,Rf3,Bc6,Rf4,Qf6,Re3,Re7,g4,Kg7,h4,Kh7,Kg3,Rg7,Kh3,Be8,Rg3,Re7,g5,hxg5,hxg5,Qe5,Rh4+,Kg8,Rf3,Bc6,Rff4,Rh7,Rxh7,Kxh7,Kg4,Rh8,Qc2,Kg8,Qf2,Be8,g6,Bxg6,fxg6', 'Qh5+,Kg3,Qh3#', 'https://lichess.org/training/XPzvI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQ1kb', 'Rapid', 'Anamika11', 2102, 'Sahillsg143', 2475, 'Nf3,Nf6,d4,Nd5,e4,Nb4,Qd2,e5,dxe5,N8c6,Nc3,d6,exd6,Bxd6,e5,Nxe5,Nxe5,Bxe5,Qxd8+,Kxd8,Bd3,Bxc3+,bxc3,Nxd3+,cxd3,Bf5,O-O,Bxd3', 'Rd1,Ke8,Rxd3', 'https://lichess.org/training/XQ1kb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xq37o', 'Classical', 'Sanadamjad94', 1619, 'Petr2323', 1726, 'e4,Nf6,Nf3,g6,Bc4,Bg7,Ng5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,Qf3,d6,d4,Bg4,Qb3+,d5,Qxb7,Nbd7,exd5,Nb6,O-O,Nfxd5,Qc6,Bxd4,Nc3,Bf5,Nxd5,Qxd5,Qxc7,Nc4,c3,Bb6,Qf4,Kg8,b3,Nd6,c4,Qe4,Qh6,Bd4,Bd2,Bxa1,Rxa1,Qd4,Rd1,Ne4,Qf4,Rf8,g4,Bd7', 'Qxf8+,Kxf8,Bh6+,Ke8,Rxd4', 'https://lichess.org/training/Xq37o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xq3s6', 'Rapid', 'paulomiranda881', 1922, 'manado', 1877, 'e4,c5,Nf3,e6,c3,Qc7,d4,cxd4,cxd4,a6,Nc3,Nc6,a3,b6,Bd3,Bb7,O-O,Rc8,Re1,h6,d5,Ne5,Bf4,Bd6,Nxe5,Bxe5,Bxe5,Qxe5,dxe6,dxe6,Nd5,Nf6,f4,Qd4+,Kh1,Nxd5', 'Bb5+,axb5,Qxd4', 'https://lichess.org/training/Xq3s6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xq49f', 'Classical', 'baraka_berserk', 1908, 'osama98765', 2083, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,a6,Bd3,Nbd7,c5,b6,b4,a5,bxa5,bxc5,dxc5,Bxc5,O-O,Rxa5,Bb2,O-O,e4,Bd6,Re1,Ne5,Nxe5,Bxe5,Qd2,Ra8,f4,Bd4+,Kh1,Ng4,Re2,Qh4,g3,Qh3,Nxd5,Bxb2,Ne7+,Kh8,Qxb2,Bd7,Rc2,Rad8,Nxc6', 'Bxc6,Rxc6,Rxd3', 'https://lichess.org/training/xq49f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQ5l2', 'Rapid', 'horsehead', 2051, 'rubengilmondelo64', 2053, 'd4,Nf6,c4,g6,Nc3,d5,Qb3,dxc4,Qxc4,Bg7,Nf3,O-O,e4,Nbd7,Be2,Nb6,Qb3,Be6,d5,Bg4,a4,a6,a5,Nbd7,Qxb7,Nc5,Qb4,Bxf3,gxf3,Qd6,e5', 'Nd3+,Bxd3,Qxb4', 'https://lichess.org/training/XQ5l2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xq5Mr', 'Rapid', 'VanoPNXZ', 1858, 'Sakinol', 1924, 'd4,d5,c4,c6,Nf3,Bf5,cxd5,cxd5,g3,Nc6,Bg2,Nf6,O-O,e6,Qb3,Rb8,Bf4,Rc8,Qxb7,Be7,Qb5,O-O,a3,Re8,b4,Ne4,Nbd2,Nxd2,Bxd2,Bf6,e3,e5,dxe5,Nxe5,Nxe5,Rxe5,f4,Re4,Rac1,Rec4,Bxd5,Rxc1,Bxc1,a6,Bxf7+,Kxf7,Qxf5,Kg8,Qe6+,Kh8,Qxa6,Ra8,Qe2,Qb6,Rd1,Re8,Qd2,Qc6,a4,Qxa4,Qd7,Qa8,b5,Rd8,Qxd8+,Bxd8,b6,Bxb6,Kf2,h6,Bb2,Qa2,Rd2,Ba5', 'Bxg7+,Kxg7,Rxa2', 'https://lichess.org/training/xq5Mr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xQ9WG', 'Rapid', 'denis52', 1803, 'Deadban', 1620, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Bc5,c3,Nf6,Qe2,Be7,O-O,O-O,Nh4,d6,Ng6,Re8,Nxe7+,Qxe7,Be3,Bg4,f3,Bd7,Nd2,a6,a3,Rab8,f4,exf4,Bxf4,Be6,Qe3,Bxc4,Nxc4,Kh7,Nd2,Ng4,Qe2,Qh4,h3,Nge5,Qe3,Ng6,Bg3,Qh5,Rxf7,Re7,Rf5', 'Qxf5,exf5,Rxe3', 'https://lichess.org/training/xQ9WG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XqAOi', 'Rapid', 'Serbulo187', 1649, 'TheNameSaysItAll', 1679, 'd4,d5,c4,c5,dxc5,d4,Nf3,Nc6,e3,e5,exd4,Nxd4,Nxe5,Bxc5,Nc3,Qf6,Nf3,Bg4,Be2,O-O-O,Be3', 'Nxf3+,Bxf3,Rxd1+', 'https://lichess.org/training/XqAOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xqAS4', 'Blitz', 'Dove_1ne', 1983, 'conradallison', 1981, 'e4,d6,d4,Nf6,Bd3,e5,dxe5,dxe5,Nf3,Nc6,Bg5,Bc5,O-O,h6,Bh4,Bg4,h3,Bh5,Nbd2,Qe7,Nb3,Bb6,g4,g5,gxh5,gxh4,Nxh4,Nxe4,Bxe4,Qxh4,Bxc6+,bxc6,Qg4,Qxg4+,hxg4,Rg8,Rae1,Rxg4+,Kh2,Rh4+,Kg3,Rxh5,Re4,O-O-O,Kf3,Rh3+,Ke2,Re8,c3,f5,Rc4,Kb7,a4,a5,Nc5+,Bxc5,Rxc5,Kb6,b4,h5,Rb1,h4,Rc4,e4,bxa5+,Kxa5,Rxc6,e3,Rxc7,exf2+,Kxf2,Ra8,Rc5+,Ka6,Rxf5,Rxc3,Rh5,Rc4,a5,Rf8+,Kg1,Rg8+,Kh1,Rd8,Rb6+,Ka7,Rh7+,Ka8,Rb1,Rd2,Rh6,Ka7,a6,Ra2', 'Rb7+,Ka8,Rh8+,Rc8,Rxc8#', 'https://lichess.org/training/xqAS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XqAuM', 'Rapid', 'capamatojav', 1821, 'luckynrone', 1860, 'c4,e6,Nc3,c5,g3,Nc6,Bg2,Nf6,e4,d6,Nge2,Be7,d3,a6,O-O,h6,a3,O-O,Rb1,Nd4,Nxd4,cxd4,Ne2,e5,b4,b6,a4,Bb7,b5,a5,Ba3,Rc8,f4,exf4,Nxf4,Qd7,Ne2,Ng4,Bc1,Bg5,Bxg5,hxg5,Qd2,Ne3,Rf2,Nxg2,Rxg2,f5,Nxd4,fxe4,Qa2,exd3', 'c5+,Kh8,c6', 'https://lichess.org/training/XqAuM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQaYr', 'Blitz', 'NM oberschlumpf', 2193, 'krzysztof_57', 2077, 'd4,d5,c4,c6,Nf3,Nf6,e3,a6,Nbd2,Bg4,Qc2,e6,Bd3,Nbd7,h3,Bh5,O-O,Bg6,b3,Bd6,Bb2,O-O,Bxg6,hxg6,e4,dxe4,Nxe4,Nxe4,Qxe4,Re8,Rfe1,Qc7,Rad1,Rad8,Qe3,Bf4,Qc3,Nf6,Ne5,Bxe5,dxe5,Nd7,c5,Nf8,Rd6,Qe7,Red1,Rd7,R1d4,Red8,Qd2,Qe8,Bc3,Rxd6,exd6,Nd7,Rh4,e5,b4,Qe6,Qg5,Qf6,Qe3,Qe6,Qe2,a5,a3,axb4,axb4,Ra8,Re4,f6,f4,Ra2,Qe1,Qd5,fxe5,Nxe5,Bxe5,fxe5,Rxe5', 'Qxg2#', 'https://lichess.org/training/XQaYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xqcEx', 'Rapid', 'Yamaarashi', 2135, 'duannishenmi', 2104, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,c4,Bd7,Nc3,Nf6,Be2,Be7,Be3,O-O,O-O,Nxd4,Bxd4,c5,Be3,Bc6,Qd3,Re8,f4,Qc7,Bf3,a6,a4,Rad8,g4,h6,h4,Qd7,g5,hxg5,hxg5,Ng4,Bd2,g6,Qe2,f5,gxf6,Nxf6,Qh2,Kg7,f5,Rh8,Qg3,Qe8,Kf2,Nh5,Bxh5,Rxh5,Rh1,Rxh1,Rxh1,Qf7,Qh3,Kf8,Qh8+,Qg8,Bh6+,Kf7,fxg6+', 'Qxg6,Qg7+,Qxg7,Bxg7,Kxg7', 'https://lichess.org/training/xqcEx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xQcmH', 'Classical', 'MrNeekhra', 1799, 'FENER14', 1914, 'd4,Nf6,Bf4,d6,h3,g6,e3,Bg7,Bg5,O-O,Nc3,h6,Bxf6,Bxf6,Nd5,Bg7,Nf3,c6,Nc3,e5,g4,f5,dxe5,dxe5,Bc4+,Kh7,gxf5,Bxf5,Qe2,Qb6,O-O-O,Na6,h4,e4,Nd4,Bxd4,exd4,h5,Nxe4,Bg4,Ng5+,Kh6,Qe7,Qc7,Rde1,Rae8,Nf7+,Kg7,Qxc7,Nxc7,Nd6,Rxe1+,Rxe1,Rxf2', 'Re7+,Kf8,Rxc7', 'https://lichess.org/training/xQcmH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xqd84', 'Rapid', 'Faustercio', 1615, 'fxhrg', 1820, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,d3,e5,Bg5,Nc6,Nc3,Be6,Qf3,h6,Bxf6,gxf6,Bxd5,Nd4,Qe4,Bxd5,Nxd5,Nxc2+,Kd2,Nxa1', 'Qa4+,Qd7,Nxf6+', 'https://lichess.org/training/Xqd84');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xqDAg', 'Blitz', 'mehmet2301', 1561, 'ThePainInTheChess', 1561, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nf6,Qe6,Nd4,Qc4,h6,Nf7,Nxc2+,Qxc2,Kxf7,e5,Nd5,O-O,Qb6,e6+,Ke8,f5,g5,fxg6,Bg7,Rf7,Rf8,Qa4+,Qc6,Qxc6+,bxc6,Rxg7,Nf4,Rh7', 'Ne2+,Kh1,Rf1#', 'https://lichess.org/training/xqDAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xqDQp', 'Rapid', 'Vekxx', 1741, 'jcmontanez', 1799, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Nf3,c6,Bf4,Bd6,Ne5,O-O,e3,Bf5,Bd3,Bxd3,Qxd3,Nbd7,Nxd7,Qxd7,Bg5,Qe6,f3,Rae8,O-O,g6,Bh6,Nh5,Bxf8,Kxf8,Rae1,Kg8,g3,Bxg3,hxg3,Qh3,Rf2,Qxg3+,Kf1,Qh3+,Ke2', 'Nf4+,Kd2,Nxd3', 'https://lichess.org/training/xqDQp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xqh0R', 'Rapid', 'nikolay020385', 1789, 'chicofischer', 1799, 'c4,e5,Nf3,d6,d4,e4,Nfd2,Bf5,Nc3,c6,Ndxe4,Bc8,g3,Nf6,Bg2,Be7,O-O,O-O,Bg5,d5,Bxf6,dxe4,Bxe7,Qxe7,Bxe4,Nd7,e3,Nf6,Bg2,Bg4,Qb3,Rab8,h3,Be6,d5,cxd5,cxd5,Bd7,Rad1,Qd6,e4,a6,Rfe1,Qc5,e5,Ne8,e6,fxe6,dxe6,Bc6,e7+,Rf7,Rd8', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/Xqh0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xqjD9', 'Rapid', 'Dietryh', 1619, 'HURRICANE1996', 1770, 'd4,Nf6,c4,e5,dxe5,Ne4,Qd3,Nc5,Qd1,d6,Nf3,Ne4,e3,Nc6,a3,Bg4,Be2,Nxe5,Nxe5,Bxe2,Qxe2,dxe5,O-O,Bc5,Rd1,Nd6,b4,Qf6,bxc5,Ne4,f3,Ng5,e4,Ne6,c6,Nd4,Qd2,Qxc6,Qd3,Qc5,Be3,Rd8,Bxd4', 'Rxd4,Qxd4,exd4', 'https://lichess.org/training/xqjD9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xQkFZ', 'Rapid', 'Kratos9', 2101, 'east67', 2064, 'b3,e6,Bb2,d5,e3,Nf6,Nf3,Be7,c4,O-O,Nc3,c5,cxd5,exd5,d4,b6,Be2,Bb7,O-O,Nc6,a3,Qc7,Rc1,Rfd8,Na4,Ne4,Bd3,f5,Bxe4,fxe4,Ne5,Nxe5,dxe5,Qd7,Qh5,Rf8,Rfd1,Rf5,Qg4,Raf8', 'e6,Rg5,Qxg5,Bxg5,exd7', 'https://lichess.org/training/xQkFZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQlNh', 'Rapid', 'fleksaton', 1978, 'ST005', 1974, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Qa5,Bxc6+,bxc6,dxc5,Qxc5,b4,Qb6,Be3,Qc7,f4,c5,a3,Ba6', 'Qa4+,Qd7,Qxa6', 'https://lichess.org/training/XQlNh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xqm0a', 'Blitz', 'Mukagalimaster2010', 1532, 'starwars22', 1539, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,O-O,Nf6,c3,Be7,Re1,O-O,d4,Nbd7,d5,h6,Be2,Bg6,Bd3,Bh5,c4,Nc5,Bc2,Bg6,Nc3,a6,b4,Ncd7,Kf1,Re8,a4,b5,axb5,axb5,Rxa8,Qxa8,Nxb5,Nc5,bxc5,Qb8,cxd6,cxd6,Ba4,Rc8,Nd2,Nxe4,Nxe4,f5,Nd2,e4,Re3,Bg5,Rb3,Bxd2,Bxd2,Rxc4,Na3,Qa7,Nxc4,Qxa4,Nxd6,Kh7,Rb1,Qa6+,Kg1,Qxd6,Bb4,Qf4,d6,e3,fxe3,Qxe3+,Kh1,f4,d7,Be4,d8=Q', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/Xqm0a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XqM1Q', 'Blitz', 'Rubyjunior', 2523, 'FM SNOEBE', 2497, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,Bb4,dxe5,Nxe4,Qd3,d5,Be2,Bf5,O-O,Ng3,Qd1,Nxf1,Bxf1,Bxc3,bxc3,O-O,Nd4,Bd7,f4,Re8,Bd3,Ne7,Rb1,c5,Nf3,Rb8,Bxh7+,Kxh7,Ng5+,Kg6,Qd3+,Bf5,Qg3,Qa5,Ne6+,Kh7', 'Qxg7#', 'https://lichess.org/training/XqM1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQnVb', 'Rapid', 'Doenertier911', 1705, 'toni09', 1720, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,Qd2,d6,Bh6,Nbd7,Nf3,e5,Bxg7,Kxg7,e3,b6,d5,Re8,Be2,Nc5,O-O,Bf5,Rfc1,e4,Nd4,Bg4,h3,Bxe2,Ncxe2,Nd3,Rc2,Nd7,Nf4,N7e5,Nc6,Qg5,Qc3,Nxf4,exf4,Qxf4,Re2,Kf8,Nxe5,Rxe5,Rae1,Rae8,Re3,Rf5', 'Qh8+,Ke7,Rxe4+', 'https://lichess.org/training/XQnVb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQnXM', 'Classical', 'nuttenpaule', 1772, 'pacogarcial', 1683, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,Nf6,a3,a6,Nd5,d6,b4,Bd4,Nxd4,Nxd4,c3,Ne6,O-O,c6,Nxf6+,Qxf6,Be3,b5,Bb3,O-O,d4,Bb7,d5,cxd5,Bxd5,Bxd5,Qxd5,Nc7,Qc6,Rfc8,Rfd1,Ne8,Qd5,Rd8,a4,Nc7,Qc6,Rac8,axb5,Nxb5,Qxa6,Nxc3,Rd2,Nxe4,Rd3,Rc2,Ra2,Rdc8', 'Rxc2,Rxc2,Qa8+,Kh7,Qxe4+', 'https://lichess.org/training/XQnXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xqOPR', 'Rapid', 'GoDeiber', 1703, 'Marathoni', 1652, 'd3,e5,Nc3,d5,e3,Bb4,Nf3,Nc6,a3,Be7,Be2,Nf6,e4,d4,Na2,Be6,O-O,Bxa2,Rxa2,O-O,Ra1,a5,c3,a4,cxd4,Nxd4,Nxd4,Qxd4,Qc2,Bxa3,Rxa3,c6,Bd2,Rfc8,Bc3,Qd6,Rxa4,b5,Raa1,c5,Qd2,b4,Bxb4,cxb4,Rxa8,Rxa8,Rc1,Nxe4,Qe3,Nf6,h3,h6,Qf3,Ra2,b3,Qd4', 'Rc8+,Kh7,Qf5+,g6,Qxf6', 'https://lichess.org/training/xqOPR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQOUP', 'Rapid', 'Pentar', 1635, 'VazelinTopalov', 1610, 'f4,e5,fxe5,d5,d4,Ne7,Bf4,Nf5,e3,g5,Bg3,h5,Nc3,h4,Bf2,g4,g3', 'hxg3,hxg3,Rxh1', 'https://lichess.org/training/XQOUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xqozB', 'Rapid', 'Wombelspeck', 1817, 'd0berm4n', 1778, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,b6,Qxb6,Nc3,a5,Qc2,Ba6,a4,g6,Nb5,Nxd5,Bd2,Bg7,e4,Nb4,Bxb4,cxb4', 'Nc7+,Kd8,Nxa8', 'https://lichess.org/training/xqozB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xqplj', 'Blitz', 'lmvd', 1537, 'robgiov', 1532, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nd7,Nc3,Ngf6,f3,Be7,Be3,c5,Ndb5,Ne5,Nd5,Nxd5,Qxd5,O-O,O-O-O,Bd7,Nxd6,Be6,Qxe5,Bf6,Qg3,Qb6,b3,Bc3,Bc4,Qa5,Bd2', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/Xqplj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQPZy', 'Rapid', 'TheNumberpad', 1822, 'Istana', 1676, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,Nf3,Nc6,Be3,dxe5,d5,Nb8,Nxe5,e6,Nc3,Bb4,Bxb6,Bxc3+,bxc3,axb6,a4,O-O,Be2,Qg5,Ng4,exd5,cxd5,Re8,O-O,f5,f4,Qe7,Ne5,Ra5,c4,Nd7,Nxd7,Bxd7,Bd3,c6,Kh1,cxd5,cxd5,Rxd5,Bc4,Rd8,Qxd5+,Kh8,Rfe1,Qf6,Re5,Bc6,Qe6,Qh4,Rae1,h6,Bb5,Re8,Qf7', 'Qxe1+,Rxe1,Rxe1+,Bf1,Rxf1#', 'https://lichess.org/training/XQPZy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XqQv6', 'Rapid', 'renosmartis', 1639, 'freediver81', 1644, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,g6,e5,Bg7,f4,Ne7,c3,dxc3,dxc3,O-O,Bc4,d6,exd6,cxd6,Nd2,d5,Bb3,Be6,Nf3,Nf5,Nd4,Bxd4+,cxd4,Qb6,Bc2,Nxd4', 'Be3,Ne2+,Qxe2', 'https://lichess.org/training/XqQv6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQqvv', 'Rapid', 'JariIkonen', 1900, 'KingKunAchim09', 1814, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,c6,Nc3,Qa5,d4,e6,Bd2,Nf6,Ne4,Bb4,Nxf6+,gxf6,c3,Bd6,h3,Bh5,Qb3,Qc7,Be3,Rg8,g4,Bg6,Nh4,Be4,Bf3,Bxf3,Nxf3,Nd7,O-O-O,a5,c4,a4,Qc3,c5,d5,exd5,Rxd5,O-O-O,Rhd1,Ne5,Nh4,Rge8,Nf5,Bf8,Rxd8+,Rxd8,f4,Rxd1+,Kxd1,Qd8+,Ke2,Nc6,a3,Na5,Bd2,Nb3,Qd3,Qe8+,Kf3,Qc6+,Kg3,Qe6,Bc3,Nc1,Qd5,Ne2+,Kh4,Nxf4,Qxe6+,fxe6,Ne3,Bh6,Bxf6', 'Ng6+,Kg3,Bxe3', 'https://lichess.org/training/XQqvv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQr1q', 'Blitz', 'Marro89', 2073, 'FM Iniciativa', 2404, 'd4,d6,c4,f5,Nc3,Nf6,e3,e6,f4,g6,Nf3,Bg7,Be2,O-O,O-O,Qe8,a3,Nc6,b4,e5,d5,Nd8,fxe5,dxe5,Bb2,Nf7,Qb3,e4,Nd4,Bh6,Bc1,Ne5,Nd1,Bd7,c5,Ba4,Qc3,Neg4,Bxg4,Nxg4,Re1,Bg7,h3,Nf6,Bb2,Nxd5,Qc4,c6,Rc1,Rd8,Nc3,Bb5,Ncxb5,cxb5,Qe2,a6,Rcd1,Kh8,Kh1,f4,exf4,Rxf4,Nb3,Nc3,Bxc3,Bxc3,Rxd8,Qxd8,Rf1,Rxf1+,Qxf1,Qe7,Qe2,e3,Nc1,Qe4,Nd3,Bd4,Ne1,Be5,Nf3,Bf4,Qb2+,Kg8,Qf6,Qb1+,Ng1,e2,Qe6+,Kg7,Qxe2,Bg3,Qe7+,Kg8,Qf6,Qe1,Qf3', 'Bf2,Qxf2,Qxf2', 'https://lichess.org/training/XQr1q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xQrxu', 'Blitz', 'FM erezkup', 2411, 'UnknownPawn', 2456, 'e4,c5,a3,e6,b4,cxb4,axb4,Bxb4,Bb2,Nf6,e5,Nd5,Qg4,Bf8,Ba3,h5,Qe4,Nc6,Bxf8,Kxf8,f4,g6,Nf3,d6,Bc4,Nb6,Bb3,Kg7,O-O,d5,Qe1,Ne7,Ng5,Nf5,Nc3,Bd7,Ne2,h4,Qf2,Bb5,d3,d4', 'Bxe6,fxe6,Nxe6+', 'https://lichess.org/training/xQrxu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XqtzU', 'Rapid', 'pear_123', 1846, 'CHESSGSRU', 1961, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,Nc3,Nf6,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,Bg5,c6,Qf3,Be7,Rae1,Bg4,Qg3,Be6,Bc1,Bd6,Bf4', 'Nh5,Bxd6,Nxg3', 'https://lichess.org/training/XqtzU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xQU90', 'Classical', 'hkhrsc', 1653, 'Angrych1cken', 1633, 'd4,d5,e3,Nc6,Nf3,Nf6,Be2,e5,Nbd2,exd4,Nxd4,Nxd4,exd4,Bb4,O-O,O-O,c3,Ba5,a4,Bf5,b4,Ne4,Nxe4,Bxe4,bxa5,Qf6,a6,bxa6,Bxa6,Qxa6,Ba3,Qg6,f3,Bd3,Rf2,Rfe8,h4,Re6,h5,Qf5', 'g4,Qf4,Qxd3', 'https://lichess.org/training/xQU90');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XqUim', 'Rapid', 'hazem1966', 1744, 'Ke2', 1768, 'e4,c5,Bc4,e6,Nf3,Nc6,O-O,Nf6,e5,Ng4,Re1,Qc7,d4,cxd4,Nxd4,Ngxe5,Nxc6,bxc6,Bf4,d6,Bxe5,dxe5,Qh5,Bd6,Nc3,O-O,Ne4,Be7,Rad1,Bb7,Ng5,Bxg5,Qxg5,Rad8,Rxd8,Rxd8,Qxe5', 'Qxe5,Rxe5,Rd1+,Bf1,Ba6', 'https://lichess.org/training/XqUim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xqvfH', 'Blitz', 'KABIRSR', 2185, 'TheElvenGods', 2174, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Nd5,Bc4,Nb6,Bb3,Be7,cxd4,d5,h3,O-O,O-O,Bf5,Nc3,Na5,Re1,Nxb3,Qxb3,f6,Bf4,fxe5,Bxe5,c6,a4,Bxh3,gxh3,Rxf3,Kg2,Qf8,Re2,Nc4,Qxb7,Rc8,Qd7,Nxe5,dxe5,Bc5,Qe6+,Kh8,Rf1,Rc7,Qg4,Rcf7,Nd1,R7f4,Qd7,h5,e6,Qf5,Rh1,Rxf2+,Nxf2', 'Rxf2+,Rxf2,Qxf2#', 'https://lichess.org/training/xqvfH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xqw3I', 'Rapid', 'gus1947', 1724, 'Zeyer_1', 1777, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Qe7,Qd5,Bxc3+,bxc3,Qa3,Qd2,O-O,h3,Nh6,Nd4,d6,Bxh6,gxh6,exd6,cxd6,e3,Nxd4,cxd4,Be6,d5,Bf5,Be2,Kh8,O-O,Rg8,Kh2,Qc5,Qd4+,Qxd4,exd4,Rac8,Rfc1,Be4,f3,Bf5,g4,Bd7,Rab1,b6,Bd3,Rgf8,Re1,f5,Re7,Rcd8,gxf5,Bxf5,Bxf5,Rxf5,Rf1,Ra8,Re6,Rf4,Re4,Raf8,Kg3', 'Rxe4,fxe4,Rxf1', 'https://lichess.org/training/Xqw3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XqwNr', 'Rapid', 'tapanyag2', 1750, 'EvertRoeleveld', 1751, 'd4,Nf6,Bg5,h6,Bxf6,exf6,e4,c6,Bd3,d5,Nc3,dxe4,Bxe4,Bb4,Qe2,Bxc3+,bxc3,Be6,Nf3,Nd7,O-O,f5,Bxf5,Qe7,Rfe1,Nf8,d5,cxd5,Nd4,O-O-O,Qg4,Rg8,Re3,Kb8,Rae1,Rd7,Bxe6,fxe6,Nxe6,Nxe6,Rxe6,Qc5,Re8+,Rxe8,Rxe8+,Kc7,Qg3+,Kb6,Re6+,Ka5,Rg6,Qe7,f4,b6,c4,Qc5+,Qf2,Qxc4,Qd2+,Ka6,c3,Rf7,g3,Qc5+,Qd4,Qxd4+,cxd4,Kb5,Kf2,Kc4,Ke3,Re7+,Kd2,Kxd4,f5,Ke4', 'Re6+,Kxf5,Rxe7', 'https://lichess.org/training/XqwNr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xqwsl', 'Rapid', 'JATOVARICH', 2081, 'Ivacko', 1999, 'e4,c6,Nf3,d5,Nc3,Nf6,e5,Ne4,d4,Nxc3,bxc3,Bg4,h3,Bh5,Be2,e6,O-O,c5,Bg5,Be7,Bxe7,Qxe7,Nh2,Bxe2,Qxe2,O-O,f4,Nc6,f5,exf5,Rxf5,cxd4,Qd3,dxc3,Qxc3,d4,Qc4,Rac8,Qd3,Nb4,Qe4,Nxc2,Rc1,Qa3', 'Rxc2,Rxc2,Qxc2', 'https://lichess.org/training/Xqwsl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQxfQ', 'Blitz', 'Luisito_Rey', 1851, 'Soriazf', 2120, 'c4,e5,Nc3,Nf6,g3,c6,Nf3,d5,Nxe5,d4,Nb1,Bd6,Nf3,c5,Bg2,O-O,d3,Re8,O-O,Bg4,h3,Be6,e3,Nc6,exd4,cxd4,a3,Qd7,Kh2,Ne5,Nxd4,Neg4+,hxg4,Bxg3+,fxg3,Nxg4+,Kh1,Qxd4,Qf3,Rac8,Nc3,Rc5,Nd5,Rxd5,cxd5,Qe5,dxe6', 'Qh5+,Bh3,Qxh3+,Kg1,Qh2#', 'https://lichess.org/training/XQxfQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XQyK3', 'Bullet', 'olimpero94', 1791, 'omio19', 1788, 'd4,Nf6,Nf3,g6,Bg5,d5,Nbd2,Bg7,Bxf6,Bxf6,e4,O-O,e5,Bg7,h4,f6,h5,fxe5,hxg6,hxg6,Nxe5,Bf5,Ndf3,Nd7,Nxd7,Qxd7,Bd3,Rae8,Qe2,c5,O-O-O,cxd4,Rh4,e5,Bxf5,Qxf5,Rdh1,e4,Nd2,Qxf2,Qb5,Rd8,Qxb7,e3', 'Rh8+,Bxh8,Qh7#', 'https://lichess.org/training/XQyK3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xQYTN', 'Classical', 'thiagoaraujs', 1711, 'zimonias', 1706, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,e6,Nf3,Nd7,Bf4,Ngf6,Bg5,Be7,Nxf6+,Nxf6,Bxf5,Qa5+,c3,Qxf5,O-O,O-O,Re1,Rfd8', 'Re5,Qg6,Nh4', 'https://lichess.org/training/xQYTN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xR0qZ', 'Rapid', 'AmanitoMuscario', 1656, 'GalyaF', 1661, 'e4,e6,d4,d5,e5,c5,dxc5,Bxc5,Nf3,Qb6,Be3,Bxe3,fxe3,Qxb2,Nbd2,Nc6,Be2,Nxe5,Nxe5,Qxe5,O-O,Qxe3+,Kh1,Nf6,Rb1,b6,Nb3,Bb7,Bb5+,Ke7,Nd4,a6,Be2,b5,Rb3,Qe4,Bf3,Qe5,Re1,Qd6', 'Nf5+,Kd7,Nxd6', 'https://lichess.org/training/xR0qZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XR1YP', 'Rapid', 'kurtozan251', 1757, 'Publioventidio', 1816, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,Be3,Be7,Qd2,b5,a3,Bb7,f3,Nbd7,b4,Rc8,O-O,Qc7,Nd1,d5,exd5,Nxd5,Bf2,O-O,Ne3,Nf4,Bg3,Nxe2+,Qxe2,Qc3,Qd3,Bf6,Qxc3,Rxc3,Rad1,Rxe3,Nb3,Nb6,Bf2,Rxb3,cxb3,Nd5,Rc1,h6,Bc5,Rd8,Rf2,Nf4,Rcc2,Nd3,Rfd2,Nxc5,bxc5,Rxd2,Rxd2,Bd5,b4,Kf8,Rc2,Bd4+,Kf1,Ke7,f4,f5,h4,Bc4+,Ke1,Bg1,g3,Bd4,a4,Bb3,Rc1,Bc4,axb5,axb5,Rc2,Kd7', 'Rd2,e5,fxe5,Ke6,Rxd4', 'https://lichess.org/training/XR1YP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XR2LC', 'Blitz', 'shamalukh2020', 1830, 'alasaad19969', 1697, 'd4,d6,e4,Nf6,Nc3,g6,Bg5,Bg7,Be2,O-O,h4,h5,Qd2,Re8,Bh6,e5,Bxg7,Kxg7,d5,Nbd7,O-O-O,Nc5,f3,a6,Nh3,b5,Nf2,Na4,Nxa4,bxa4,g4,Bb7,gxh5,Nxh5,Rdg1,Rb8,a3,c5,Ng4,Qb6,Qh6+,Kg8,Ne3,Bxd5,Rxg6+,fxg6,Qxg6+,Ng7,Nxd5,Qxb2+,Kd2,Qd4+,Bd3,Qf2+,Be2,c4,Nf6+,Kf8,Nd7+,Kg8,Nxb8,c3+,Kc1,Rxb8', 'Bc4+,d5,Bxd5+,Kh8,Qh6#', 'https://lichess.org/training/XR2LC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xr3g2', 'Blitz', 'MqRmI', 1996, 'Khalid_azazy1', 1725, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,c6,Bc4,e6,d4,h6,Bf4,Nf6,Qd2,Bd6,O-O-O,Bxf4,Qxf4,O-O,Ne5,Nbd7,Bd3,Nd5,Qe4,f5,Qe1,Nxc3,Qxc3,Nf6,Bc4,Re8,f3,Nd5,Qd3,Qf6,Rhf1,Nf4,Qd2,Ng6,Rfe1,Nxe5,dxe5,Qg6,Kb1,b5,Bb3,a5,a3,c5,g4,c4,gxf5,exf5,Qd5+,Be6,Qxb5,cxb3,c3,f4+,Ka1,Bf5,Rd6,Re6,Qd5,Re8,Rd7,Kh7,Qd4,Qg2,Rg1,Qxf3,Rgxg7+,Kh8,Qg1,h5', 'Rh7+,Bxh7,Qg7#', 'https://lichess.org/training/xr3g2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XR4Kb', 'Rapid', 'NoahRitzerveld', 1761, 'Andryuhan', 1698, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,Bg4,Bb5+,Nc6,h3,Bh5,O-O,e6,Bg5,Be7,Re1,O-O,Qd2,Bxf3,gxf3,h6,Bxh6,gxh6,Qxh6,Nh7,Kh1,Bg5,Rg1,Kh8,Qh5,Qf6,Bd3,Qh6', 'Rxg5,Qxh5,Rxh5', 'https://lichess.org/training/XR4Kb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xr5pR', 'Blitz', 'oreoicecream', 1856, 'serdar034', 1837, 'e4,e5,Nf3,Nc6,Bc4,f6,d4,exd4,Nxd4,Bc5,Nf5,d6,Nxg7+,Kf8,Qd5,Qe7,Nf5,Bxf5,Qxf5,Re8,O-O,Qxe4,Bh6+,Nxh6', 'Qxf6+,Nf7,Qxf7#', 'https://lichess.org/training/Xr5pR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xR5Xm', 'Blitz', 'Balvanka', 1965, 'mihuZ', 2189, 'c4,d6,Nc3,e5,d3,c5,e3,Nc6,Nf3,Bg4,Be2,Bxf3,Bxf3,Nf6,Bd2,Be7,O-O,O-O,Qa4,Nb4,Be2,a6,a3,Nc6,Bf3,Qc7,Nd5,Nxd5,Bxd5,Kh8,b4,f5,bxc5,dxc5,Rab1,Rab8,Rb2,Bf6,Bc3,h6,Rfb1,f4,Bxc6,fxe3,fxe3,Qd6,Be4,Bg5,Re2,Qf6,Qd7', 'Bxe3+,Rxe3,Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/xR5Xm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xR602', 'Blitz', 'king_karnan', 2025, 'Luisito32', 1997, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,f4,Nbd7,f5,Nc5,O-O,O-O,Bg5,Nfxe4,Nxe4,Bxg5,Nxg5,Qxg5,fxe6,fxe6,Rxf8+,Kxf8,Qf3+,Kg8,Rf1,Bd7', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/xR602');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XR6C0', 'Rapid', 'rafik1108', 1943, 'Bahlaoui', 1863, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,e5,dxe5,Bxf7+,Ke7,Qxd8+,Kxd8,Bc4,Bd6,Nc3,Bf5,Bg5,Bxc2,Bxf6+,gxf6,O-O,a6,Rac1,Bg6,Nd5,Rf8,Rcd1,f5,a3,e4,Nf4,Be8,Ne6+,Ke7,Nxf8,Kxf8,Rfe1,Bc6,Bd5,Bxd5,Rxd5,Rd8,Rxf5+,Kg7,Rxe4,Bxa3,g3,Bd6,b4,b6,h4,h6,Rg4+,Kh8,Rd4,Rd7,Rf6,Kh7,Re6,Kg7,Rg4+,Kf7,Rxh6,Rd8,Rh7+,Ke6,Rg6+,Kd5,Rh5+,Kc4,Rg4+,Kb3,b5,a5,Rd4,a4,Rd3+,Kc4,Rhd5,a3,R5d4+,Kc5,Ra4,Kxb5,Ra7,Re8,h5,Rg8,Kg2,Rf8,f4,Rg8,Kh3,Rh8,g4,Bxf4,Rdxa3,Be5,Re3,Bf4,Rf3,Bd6,Rf6,Re8,Rxd6,cxd6,Kh4,d5,h6,d4,Rd7,Kc4,g5,d3,g6,Re4+,Kg5,Rd4,Rc7+,Kb4,g7,d2,g8=Q,d1=Q,Qf8+,Rd6,Qf4+,Rd4,Qf8+,Rd6,Rf7,Qd5+,Rf5,Qg2+,Kh5,Qh2+,Kg4,Qg2+,Kf4,Qf2+,Ke5', 'Qd4#', 'https://lichess.org/training/XR6C0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xR6Pb', 'Blitz', 'Blaugrana19', 2168, 'thecorrs1', 2086, 'e4,c6,d4,d5,Nc3,a6,Nf3,Bg4,h3,Bxf3,Qxf3,e6,Bd3,Nf6,e5,Nfd7,Ne2,c5,c3,Nc6,O-O,Be7,Qg4,g6,a3,O-O,b4,cxd4,cxd4,Qb6,Bd2,Rfc8,Be3,Bf8,h4,Bg7,h5,Qd8,Rad1,b5,Bg5,Qc7,Qh3,Nb6,hxg6,hxg6,g4,Nc4,Kg2,Nb2,Rh1,Nxd1,Qh7+,Kf8,Qh8+,Bxh8', 'Rxh8+,Kg7,Bf6#', 'https://lichess.org/training/xR6Pb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xr734', 'Blitz', 'kakayi45', 2024, 'dasuboot', 2039, 'e4,c5,Nf3,Nc6,Bb5,Nd4,Nxd4,cxd4,c3,Qb6,Bc4,e5,O-O,d6,Qh5,Qc7,d3,Nf6,Qe2,a6,Bg5,Be7,cxd4,exd4,Nd2,O-O,Rac1,Qa5,Bb3,Qxg5,f4,Qg4,Qf2,Nh5,Rc7,Bf6,Nc4,Be6,Rxb7,Bxc4,Bxc4,Qc8,Bd5,Rb8,Rxb8,Qxb8,g4,Nxf4,Qxf4,Qxb2,g5,Be5,Bxf7+,Kh8,Qf2,Qc3,Qe2,g6,Bc4,Rb8,Qf2,a5', 'Qf8+,Rxf8,Rxf8+,Kg7,Rg8#', 'https://lichess.org/training/xr734');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRAGY', 'Blitz', 'Hpsk', 1677, 'rookierook777', 1693, 'e4,c5,Nf3,d6,d4,cxd4,c3,dxc3,Nxc3,a6,Bd3,Bg4,O-O,Nf6,h3,Bh5,Be3,Nc6,a3,Ne5,Be2,Bxf3,Bxf3,Nxf3+,Qxf3,e6,Rfd1,Be7,Rd2,Qc7,Rad1,O-O,Bf4,e5,Be3,Rad8,g4,h6,g5,hxg5,Bxg5,Nh7,Be3,Bg5,Nd5,Qd7,Bxg5,Nxg5,Qg4,Qxg4+,hxg4,Nf3+,Kg2,Nxd2', 'Ne7+,Kh7,Rh1#', 'https://lichess.org/training/XRAGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xrbrR', 'Rapid', 'Mithun_Chakraborti', 1981, 'agemennon', 1691, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Bc4,e6,O-O,Nf6,Nc3,Qc7,Bb3,Nc6,Re1,Be7,Nxc6,Qxc6,e5,dxe5,Rxe5,b5,Bg5,Bb7,f3,Ng4,Bxe7,Nxe5,Bb4,a5,Ba3,b4', 'Ba4,O-O,Bxc6', 'https://lichess.org/training/xrbrR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xrBu4', 'Rapid', 'Arvin32', 2050, 'Gudhagh', 2128, 'd4,d5,Nc3,Nf6,Bf4,Bf5,e3,e6,Be2,Bd6,Bxd6,Qxd6,g4,Bg6,Qd2,a6,f4,Ne4,Nxe4,Bxe4,Bf3,Bxf3,Nxf3,Nd7,g5,c5,dxc5,Nxc5,O-O-O,Ne4,Qe2,Rc8,Rd4,b5,Rhd1,O-O,Rxe4,Rc7,Red4,Rfc8,R1d2,g6,Ne5,b4,b3,a5,Kd1,Qc5,h4,Qc3,Nd3,Ra7,h5,a4,Rxb4,axb3,cxb3', 'Qa1+,Nc1,Qxc1#', 'https://lichess.org/training/xrBu4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XrcWm', 'Classical', 'viktor1006', 1941, 'erittu', 1908, 'e4,d5,e5,c5,f4,Nc6,Nf3,Nh6,Bb5,Bd7,Bxc6,Bxc6,d3,e6,Qe2,Nf5,c3,Be7,g3,O-O,Nbd2,h5,Nf1,d4,c4,b5,N1d2,Ne3,Ne4,bxc4,Bxe3,dxe3,Qxe3,Qxd3,Qxd3,cxd3,Ned2,Rab8,b3,c4,bxc4,Rb2,Rf1,Bb4,Kd1,Rb8,Nb3,Ba4,h3,Rc8,Kc1,Rc2+,Kb1,R2xc4,Nbd2,Rc1+,Rxc1,Rxc1+,Kxc1', 'Ba3+,Kb1,Bc2#', 'https://lichess.org/training/XrcWm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xRELq', 'Rapid', 'reydeplata', 1874, 'WellHungMan', 1629, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,Qc2,Nc6,e3,d5,Nf3,b6,a3,Bxc3,Bxc3,Ba6,cxd5,Bxf1,dxc6,Bxg2,Ng5,Bxh1,O-O-O,Bxc6,d5,Bxd5', 'Bxf6,g6,Bxd8', 'https://lichess.org/training/xRELq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRFc1', 'Classical', 'marketa27', 1908, 'DDDBBB', 1809, 'd4,e6,Bf4,d5,e3,Nf6,Nf3,Bd6,Bxd6,Qxd6,c3,c6,Nbd2,O-O,h3,b5,a3,a5,Be2,Ba6,O-O,Nbd7,b4,Bb7,Bd3,e5,dxe5,Nxe5,Nxe5,Qxe5,Qc2,Rfe8,Nf3,Qe7,Nd4,g6,Rfe1,Ne4,Bxe4,Qxe4,Qxe4,Rxe4,f3,Ree8,Nb3,axb4,cxb4,Bc8,Kf2,h5,Rec1,Bd7,Nc5,Bf5,g4,hxg4,hxg4,Be6,Rc3,Rac8,Rd1,Kg7,e4,dxe4,Nxe4,Re7,Rd6,Bd5,Nf6,Re6,Rxe6,Bxe6,g5,Bc4,Ke3,Rd8,f4,Kf8,Ke4,Ke7,Ke5,Ra8,Re3,Be6,Rd3,Rc8,Rc3,Bc4,Kd4,Kd6,Ng4,Rd8,Ne5,Kc7+,Ke3,Bd5,Rd3,Rd6,Rd4,f6,gxf6,Rxf6,Nd3,Re6+,Kf2,Re4,Rxe4,Bxe4,Ne5,Kd6,Ke3,Kd5,Nxc6,Bf5,Ne7+,Kc4,Nc6,Kb3,Kd4,Kxa3,Kc5,Bd3', 'Ne5,Be2,Nxg6', 'https://lichess.org/training/XRFc1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xrGJk', 'Classical', 'Alaapkpok', 1811, 'atrchi89', 1888, 'e4,c6,Nc3,d5,e5,Bf5,d4,e6,Nf3,c5,Bb5+,Nc6,Na4,Qa5+,Nc3,a6,Bxc6+,bxc6,Bd2,cxd4,Nxd4,Bg6,Nxc6,Qc7,Nxd5,Qxc6,Nf4,Qe4+,Be3,Qxc2,Nxg6,Qxd1+,Rxd1,hxg6,O-O,Ne7,Bc5,Nd5,Bxf8,Kxf8,f4,Ne3,Rd7,Nxf1,Kxf1,Ke8,Rc7,Rxh2,Kg1,Rh4,g3,Rg4,Kg2,Rd8,Kh3,f5,exf6,Rxg3+,Kxg3,gxf6,Kg4,Rd6,Rg7,e5,Rxg6', 'f5+,Kxf5,Rxg6', 'https://lichess.org/training/xrGJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRgkI', 'Classical', 'SingularWon', 1657, 'PaulFordChess', 1751, 'e4,d6,Nf3,Nf6,Nc3,g6,Be2,Bg7,O-O,O-O,h3,c5,Bc4,Nc6,Ng5,Ne5,Be2,h6,Nf3,Nxf3+,Bxf3,Rb8,Qe2,b6,e5,dxe5,Qxe5,Bb7,Bxb7,Rxb7,Qe2,e6,Kh1,Nd5,Ne4,Qh4,d3,f5,Nd6,Rd7,Nc4,g5,Qxe6+,Rdf7,Qxd5,g4,Ne3,gxh3,g3,Qh5,Nc4,Qe2,Kg1,f4,Bxf4,Kh8,Rae1,Qg4,Re8,Rxf4,Rxf8+,Rxf8,Nd6,Bd4,Nf7+,Rxf7,Qxf7', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/XRgkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xRGMH', 'Classical', 'samsamsss', 1747, 'yodaconqueror', 1813, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Be6,Bxe6,fxe6,c3,Nf6,Re1,Be7,d4,exd4,cxd4,O-O,Nc3,a6,Nh4,Nh7,Qg4,Bxh4,Bxh6,Bg5,Qxe6+,Kh8,Bxg7+,Kxg7,Nd5,Re8,Qf5,Rf8,Qe6,Re8,Qg4,c6,Nf4,Qf6', 'Nh5+,Kh8,Nxf6', 'https://lichess.org/training/xRGMH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xRgMq', 'Rapid', 'Ewgeni1935', 1904, 'Whitewing', 1899, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,Bc4,Nf6,Nc3,Bd7,Nge2,g6,O-O,Bg7,f4,O-O,e5,dxe5,fxe5,Nh5,Nf4,Nxf4,Bxf4,Bf5,Be3,e6,Nb5,Qh4,Nd6,Rad8,Rf4,Qh6,Qf3,g5,Nxf5,exf5,Rxf5,Ne7,Rxf7,Kh8,e6,Ng6,Qxb7,Rfe8,Raf1,Bxd4,Bxd4+,Rxd4,Qc7,g4,R7f6,Qe3+,Kh1,g3,h3,Rh4,R6f3,Qd2,b3,Rxh3+,Kg1,Rh1+,Kxh1', 'Qh6+,Kg1,Qh2#', 'https://lichess.org/training/xRgMq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xrhbl', 'Classical', 'lopezku', 1843, 'GeorgeBoosh', 1823, 'e4,c5,Bc4,d6,Nc3,Nf6,d3,g6,Bg5,Bg7,Nge2,O-O,O-O,a6,a4,Nc6,f4,Nd4,Nxd4,cxd4,Ne2,d5,exd5,Nxd5,Qd2,Ne3,Rfe1,Qc7,Bb3,b6,c3,Qc6,Nxd4,Bxd4,cxd4,Ng4,h3,Nf6,Rac1,Qd6,Qe3,Bb7,Qxe7,Qxd4+,Qe3,Qxb2,d4', 'Qxg2#', 'https://lichess.org/training/xrhbl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xRi25', 'Rapid', 'Alania60', 1852, 'Ksjamdagni2', 1897, 'e4,e5,c4,Nf6,d3,Be7,Nf3,d6,Nc3,O-O,Be2,c6,O-O,Nbd7,b3,a5,a4,Nc5,Bb2,Qb6,Ra3,Be6,Ng5,d5,Nxe6,fxe6,cxd5,exd5,h3,Rad8,Qc2,Na6,Raa1,Nb4,Qb1,Bc5,Na2,Nxa2,Qxa2,dxe4', 'b4+,Kh8,bxc5', 'https://lichess.org/training/xRi25');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRJgB', 'Rapid', 'Ikaria2017', 1804, 'upokoy', 1812, 'c4,c5,Nc3,Nc6,e3,e6,d4,Nf6,d5,exd5,cxd5,Ne5,d6,Qb6,f4,Neg4,h3,Nh6,Nb5,Kd8,Nf3,Ne4,Ne5,Ng3,Nc7,Rb8,Nc4,Qc6,Rg1,Nhf5', 'Ne5,Qxd6,Nxf7+,Kxc7,Nxd6', 'https://lichess.org/training/XRJgB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xrJgy', 'Rapid', 'pawner85729', 1934, 'Soko2019', 1907, 'd4,g6,c4,Bg7,Nf3,c5,e3,Nf6,Nc3,cxd4,exd4,O-O,Be2,a6,Bg5,d6,Qd2,Qc7,O-O,Nbd7,a3,b6,Bh6,Bb7,Rac1,Rac8,b3,Ne4,Nxe4,Bxe4,Bg5,Nf6,Bh6,Qb7,Bxg7,Kxg7,d5,Bf5,Bd3,Bd7,Qf4,Rfe8,Ng5,h6,Ne4,Nxe4,Bxe4,Qc7,h4,Qc5,a4,Qb4,Qg3,Qa3,h5,g5,Qd3,Qb2,Rb1,Qe5,Rfe1,Qf6,g3,Bg4,Qe3,Rb8,b4,Bxh5,b5,a5,Rb3,Bg6,Kg2,Qe5,Bxg6,Qxe3,Rbxe3,Kxg6,Rxe7,Rxe7,Rxe7,Kf6,Rd7,Ke5,Rxf7,Kd4,Rc7,Rf8,f3,Rf6,Rc6,Kc3,g4,Kb4,Kg3,Kxa4,Rxb6,Kb4,Ra6,Kxc4,b6,Kb5', 'b7,Rf8,Ra8', 'https://lichess.org/training/xrJgy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xRJzc', 'Blitz', 'mohammedadel', 1780, 'maksimrtmo', 1725, 'b3,e6,Bb2,b6,Na3,Bb7,c4,Nc6,Nc2,Nf6,e3,Be7,Nf3,d6,d4,Qd7,Be2,O-O-O,Bd3,h6,e4,Ng4,d5,exd5,exd5,Nce5,O-O,Nxd3,Qxd3,Bf6,Bd4,Rde8,h3,Ne5,Nxe5,dxe5,Be3,g5,Rad1,g4,hxg4,Qxg4,Qe2,Qg6,Ne1,Rhg8,c5,Kb8,d6,Bxg2,dxc7+,Kxc7,cxb6+,Kb7,Rd7+,Ka8,Rxa7+,Kb8,Ra8+,Kxa8', 'Qa6+,Kb8,Qa7+,Kc8,Qc7#', 'https://lichess.org/training/xRJzc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRKRW', 'Blitz', 'pfornes', 1782, 'drdmitri', 1811, 'd4,Nf6,Nf3,e6,Bg5,Be7,Nbd2,b6,e3,Bb7,Bc4,O-O,O-O,h6,Bh4,d6,Re1,Nbd7,Bb3,Ne4,Bxe7,Qxe7,Nxe4,Bxe4,Nd2,Bb7,e4,c5,c3,Rfd8,Nf3,Qf6,Qe2,e5,d5,Qg6,Nh4,Qg5,Nf5,Nf6,Bc2,Bc8,Ng3,Nh5,Nxh5,f5,Ng3,f4,Nf1,Rf8,f3,Rf6,Kh1,Rg6,Nd2,Qh5,Rg1,Bd7,b4,Rf8,bxc5,bxc5,Rab1,Rg5,Rb7', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/XRKRW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRMFq', 'Blitz', 'BozhoPurvi', 1570, 'Hasn99', 1585, 'e4,e5,Nf3,Nc6,Bc4,Nf6,c3,d6,d4,Bg4,h3,Bxf3,Qxf3,exd4,cxd4,Nxd4,Qc3,Nxe4,Qxd4,Qe7,O-O,O-O-O,Be3,b6,Ba6+,Kd7,Re1,Nc5,Qb4,Qf6,Bxc5,dxc5,Qb5+,c6,Qd3+,Bd6,Nc3,Kc7,Qf3,Qe5,g3,Qd4,Qxf7+,Rd7,Qf5,Rf8,Qe4,Qxf2+,Kh1,Qxg3,Re2,Rf2', 'Nb5+,cxb5,Qb7+,Kd8,Qc8#', 'https://lichess.org/training/XRMFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xRML5', 'Rapid', 'PAULD', 1868, 'ahmachine', 1855, 'e4,c5,Nf3,a6,d4,cxd4,c3,dxc3,Nxc3,b5,Bd3,Bb7,O-O,e6,Qe2,Nf6,h3,Be7,Rd1,Nc6,Bf4,Nb4,Bb1,O-O,a3,Nc6,Qd3,b4', 'e5,g6,exf6', 'https://lichess.org/training/xRML5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XrnX7', 'Rapid', 'FiratCalik', 1690, 'Neptunien', 1673, 'e4,Nc6,d4,d5,e5,Bf5,Bd3,Bg6,Nf3,e6,O-O,Nge7,c4,dxc4,Bxc4,Nf5,Be3,Be7,Nc3,O-O,Ne2,Nxe3,fxe3,Bg5,Kf2,Bh6,Nf4,Ne7,Nxg6,Nxg6,Bd3,c5,Bxg6,hxg6,dxc5,Qc7,Qd6,Qa5,a3,Rad8,Qe7,Rfe8,Qxb7,Rb8,b4,Qa4,Qe4,Qb3,Rfb1,Qc3,Qd4,Qc2+,Qd2,Qe4,Qd4,Qc2+,Ke1,Rbd8,Qb2', 'Rd1+,Rxd1,Qxb2', 'https://lichess.org/training/XrnX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XROd8', 'Classical', 'Rigoletto88', 1680, 'yungtraplord', 1824, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,O-O,O-O,b6,Bg5,Bb7,Nd5,Be7,h3,Nxd5,Bxe7,Ndxe7,d4,exd4,Nxd4,d5,exd5,Nxd4,Qxd4,Nxd5,Rad1,Nf6,Qf4,Qe7,Rfe1,Qc5,b4,Qxb4', 'Bxf7+,Rxf7,Qxb4', 'https://lichess.org/training/XROd8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xROoA', 'Rapid', 'Pindonga', 1759, 'Dr_Excel', 1750, 'd4,d5,Bg5,Nf6,e3,e6,Nd2,c5,c3,cxd4,exd4,Nc6,Ngf3,Bd6,Bd3,O-O,O-O,h6,Bh4,g5,Bg3,Bxg3,hxg3,Bd7,Re1,Qc7,Ne5,Nxe5,dxe5,Nh7,Qh5,Kg7,Ne4,dxe4,Rxe4,Be8,Qg4,f5,exf6+,Nxf6,Qxe6,Nxe4,Qxe4,Kg8,Re1,Qf7', 'Bc4,Qxc4,Qxc4+', 'https://lichess.org/training/xROoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xrosp', 'Classical', 'danielcomando', 1603, 'Uknown78', 1613, 'e4,e5,Qh5,Nc6,Bb5,d6,Bxc6+,bxc6,Qe2,Nf6,Qc4,Bd7,f3,d5,Qe2,Bc5,exd5,cxd5,Qxe5+,Be6,d3,O-O,Bg5,Be7,Nd2,Nd7,Bxe7,Qxe7,Qxc7,Rfe8,O-O-O,d4,Re1,Rec8,Qa5,Rc5,Qa4,Nb6,Qxd4,Rac8,c3,Rd8,Qe4,Rcd5,d4,Rb5,f4,f5,Qxe6+,Qxe6,Rxe6,Nc8,Re5,Rb6,Rxf5,Rd7,Ngf3,Rdb7,b3,Ra6,Rc5,Ne7,a4,Ng6,f5,Nf4,g3,Nd3+,Kc2,Nxc5,dxc5,Ra5,Ne4,Rf7,g4,g6,h3,gxf5,gxf5,Rxf5,Rf1,Rf4,Nd6,Rxc5,b4,Rh5,Ne8,Rxh3,Rg1+,Kf8,Ng5,Rh2+,Kb3,Kxe8,Ne6,Rff2,Re1,Kd7,Nc5+,Kc6,Re6+,Kd5', 'c4+,Kd4,Re4#', 'https://lichess.org/training/Xrosp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRoW2', 'Blitz', 'NM killer74', 2348, 'malafatus', 1962, 'd4,e5,c4,exd4,Qxd4,Nc6,Qd2,Nf6,Nc3,Bc5,e3,d6,a3,a5,b3,O-O,Bb2,Re8,Bd3,Bg4,Nge2,h6,O-O,Ne5,Nd4,Nxd3,Qxd3,Bh5,Na4,Rc8,Nf5,Bg6,Nxc5,dxc5,Qxd8,Rcxd8,Nxh6+,gxh6,Bxf6,Kh7,Bxd8,Rxd8,Rfd1,Rxd1+,Rxd1,c6,Rd7,b5,Rc7,a4,cxb5,axb3,bxc6,b2,Rb7,b1=Q+,Rxb1,Bxb1,Kf1,Bf5,Ke2,Kg7,c7,Bc8,Kd3,Kf6', 'Kc4,Ke7,Kxc5', 'https://lichess.org/training/XRoW2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xRpxw', 'Rapid', 'StevanKacicka123', 2066, 'Rndrps', 2018, 'e4,c5,Nf3,e6,h3,a6,Nc3,Nc6,a4,d6,Bc4,Nf6,O-O,Be7,d4,cxd4,Nxd4,O-O,Be3,Bd7,Qe2,Rc8,Nxc6,Bxc6,f3,Qc7,Bd3,Rfd8,a5,Re8,Bb6,Qb8,Kh1,Nd7,Be3,Nf6,f4,d5,e5,Nd7,Qg4,Bc5,Bd2,f5,exf6,Nxf6,Qh4,Qc7,Rae1,Qf7,f5,e5,Bg5,Be7,Rxe5,Bd6,Re6,Be7,Rfe1,h6,Bxh6,gxh6,Qxh6,Qg7', 'Qxg7+,Kxg7,Rxe7+,Rxe7,Rxe7+', 'https://lichess.org/training/xRpxw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xrqSt', 'Rapid', 'promisechangeslife', 1673, 'stadnyk_oleksii', 1686, 'd4,Nf6,Nf3,g6,c4,d6,Nc3,Bg7,e4,O-O,h3,c5,d5,b6,e5,dxe5,Nxe5,Nxd5,Nxf7,Rxf7,Nxd5,Bb7', 'Nf6+,exf6,Qxd8+', 'https://lichess.org/training/xrqSt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRrap', 'Classical', 'ESwamps', 1721, 'ACBarros', 1667, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Ng8,Nf3,d6,d4,dxe5,Qe2,Be6,Qxe5,Qe7,Bxf4,Nc6,Qb5', 'Bc4+,Be5,Bxb5', 'https://lichess.org/training/XRrap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XrRu2', 'Rapid', 'IDenis1982', 1690, 'nulos', 1636, 'd4,d5,c4,c6,Qa4,Bd7,Qb3,b6,cxd5,cxd5,Qxd5,Nc6,Nf3,Rc8,Nc3,Nb4,Qe4,Nf6,Qb1,Bg4,a3,Nc6,Qd3,e6,e3,Bxf3,gxf3,Be7,Bh3,Rc7,Rg1,O-O,Ne4,Ne5,Nxf6+,Bxf6,Qe4,Ng6,Bd2,Be7,Bc3,Bd6,f4,f5,Qg2,Nh4,Qg5,Nf3+,Ke2,Nxg5,Rxg5,h6,Rg6,Rcf7,Rag1,Qh4,R1g3,Qh5+,f3,Kh7,d5,exd5', 'Rxg7+,Rxg7,Rxg7+', 'https://lichess.org/training/XrRu2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRrVa', 'Blitz', 'GM azikom', 2614, 'IM lareinedesneiges', 2577, 'd4,g6,e4,Bg7,Nc3,c6,Nf3,d5,h3,Nf6,e5,Ne4,Bd3,Nxc3,bxc3,c5,O-O,c4,Be2,Qa5,Bd2,Bd7,Re1,Ba4,e6,f6,Nh2,Nc6,Bf3,O-O-O,Qb1,Nxd4,cxd4,Qxd2,Ng4,Qxd4,Qb4,Bc6,Rad1,Qf4,Qxe7,Qc7,Qb4,Rhe8,Ne3,Rxe6,Nxd5,Bxd5,Bxd5,Red6,Be6+,Kb8,Rxd6,Qxd6,Qxc4,f5,g3,Bd4,Kg2,Bb6,Re2,Qd1,Qf4+,Ka8,Qe5,a6,Bb3,Ka7,h4,Qc1,Qe7,Rd1,Qf8,Rg1+,Kf3,Qd1,Qe7,Re1,Bc4,Qd4,Rxe1', 'Qxf2#', 'https://lichess.org/training/XRrVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xRscl', 'Rapid', 'Siavash-ir', 1909, 't0nalp0uhqui', 2032, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bd3,Bg4,f3,Be6,Bg5,Be7,Nge2,O-O,Ng3,c6,O-O,Nbd7,Qd2,Qb6,Bxf6,Nxf6,Na4,Qc7,Nc5,Bc8,Bf5,Bd6,Bxc8,Raxc8,Rae1,Bxg3,hxg3,b6,Nd3,Qxg3,Qf4,Qg6,Re5,Rfe8,Rg5,Qh6,Ne5,Re7,Qf5,Rcc7,Ng4,Nxg4,fxg4,g6,Qf6,Re6', 'Qd8+,Qf8,Qxc7', 'https://lichess.org/training/xRscl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRT7N', 'Rapid', 'z41n4li', 1788, 'oncletom', 1712, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,a3,Qc7,Nc3,b5,h3,Bb7,Bd3,Nf6,Nde2,Be7,O-O,Nc6,Bf4,d6,Ng3,Ne5,Bxe5,dxe5,Nh5,g6,Nxf6+,Bxf6,Na2,O-O,Qf3,Bg7,Rfd1,Rad8,a4,f5,Qe2,fxe4,Bxe4,Bxe4,Qxe4,bxa4,Rxd8,Rxd8,Nb4,Qb6,c3,a5,Nd3,Qb5,c4,Qb3,Ra3,Qd1+,Kh2,Rd4,Qe3,Qh5,Rxa4,Bh6,Qf3,Bf4+,Kg1', 'Qxf3,gxf3,Rxd3', 'https://lichess.org/training/XRT7N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRTC3', 'Classical', 'DonNoNo', 1850, 'DiFalco', 2012, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Nf3,Ngf6,Ng3,Nb6,h3,g6,Be3,Bg7,Qd2,O-O,Bh6,Be6,Bxg7,Kxg7,Ng5,Bc4,Bxc4,Nxc4,Qc3,Qd5,O-O,Qxg5,Qxc4,Nd5,Qb3,Rab8,c4,Nf4,Qe3,h5,Qe5+,Qxe5,dxe5,Nd3,b3,Nxe5,Rfe1,Nd3,Rxe7,Rfe8,Rd7,Nb4,Rd2,Rbd8,Rxd8,Rxd8,a3,Nc2,Ra2,Nd4,b4,f5,c5,Re8,Rd2,Rd8,Ne2', 'Nf3+,gxf3,Rxd2', 'https://lichess.org/training/XRTC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XrunB', 'Classical', 'shamitaj2009', 1679, 'mohabat2020', 1602, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,e5,Qe7,Bf4,c5,Qe3,dxe5,Qxe5,Qxe5+,Bxe5,Bf5,O-O-O,Be6,Kb1,Be7,Nb5,O-O,Bd6,Bxd6,Rxd6,Rfd8,Rxd8+,Rxd8,Be2,a6,Nc3,h6,Bf3,b5,b3,b4,Na4,c4,Nc5,cxb3,axb3,a5,Nb7,Rd2,Nxa5,Rxf2,Nc6,Nd5', 'Bxd5,Bxd5,Ne7+,Kf8,Nxd5', 'https://lichess.org/training/XrunB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xrunL', 'Rapid', 'Ivanhoe123', 1905, 'donetsk1983', 1678, 'e4,e5,Nc3,Bb4,Nd5,Nc6,c3,Bc5,f4,Qh4+,g3,Qh6,fxe5,Bxg1,d4,Qg6,Qf3,Bxd4,Nxc7+,Kd8,Nxa8,Bxe5,Bc4,Nf6,Bd3,d6,O-O,Bh3,Re1,Kd7,Bb5,Rxa8,Bxc6+,bxc6,Bf4,Bxf4,Qxf4,Re8,e5,Rxe5,Rxe5,dxe5,Qxe5,Nd5,Re1,Qc2,Qe8+,Kd6,Qe5+,Kd7,Re2,Qb1+,Re1,Qxa2,Qe8+,Kd6,Qxf7,Qxb2,Qf8+,Kc7,Qxg7+,Kb6,Qd4+,Kb5,Qd3+,Kc5,Qd4+,Kd6,Qe5+,Kd7,Qg7+,Kd6,Qh6+,Kc5,Qxh3,Qxc3,Qe6,a5,Qe2,a4,Qf1,Kb4,Rb1+,Ka5,Rc1,Qe3+,Kh1,Qe4+,Kg1,Nb4,Rc5+,Kb6,Qf2', 'Nd3,Rxc6+,Kxc6', 'https://lichess.org/training/xrunL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xrURT', 'Rapid', 'serh79', 1812, 'gauti1608', 1907, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,e5,Nxe5,Be2,O-O,O-O,b6,f4,Nc6,Nxc6,dxc6,Qxd8,Rxd8,Rad1,Be6,Bf3,Nd5,Nxd5,Bxd5,Bxd5,cxd5,c3,b5,f5,a5,Bc5,Rd7,Bd4,Bxd4+,Rxd4,gxf5,Rxf5,e6,Rg5+,Kf8,Rdg4,Rad8,Rh5,d4,cxd4,Rxd4,Rxd4,Rxd4,Rxb5,Rd2,a4,Rd5,Rb8+,Ke7,b4,axb4,Rxb4,Rd2,a5,Ra2,Rb7+,Kf6,Ra7,e5,Ra8,e4,a6,e3,Re8', 'Ra1#', 'https://lichess.org/training/xrURT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xrvif', 'Classical', 'MoMooneyMoProblems', 1835, 'LankyLuke', 1813, 'e4,c5,Nf3,Nc6,Bb5,Nf6,d3,a6,Bxc6,bxc6,O-O,e5,Nxe5,d5,Nxc6,Qc7,exd5,Nxd5,Re1+,Be6,Ne5,Bd6,Nf3,O-O,Nc3,Nxc3,bxc3,Rfe8,h3,Bd5,Rxe8+,Rxe8,Be3,c4,Bd4,Bc5,Bxc5,Qxc5,d4,Qa5,Qd2,h6,Nh4,Qa3,Qd1,Qxc3,Nf5,Re6,Rb1,Rg6,Ne7+,Kh7,Nxg6,fxg6,Rb8,Qa3,Qe2,Qc1+,Kh2', 'Qf4+,Kg1,Qxb8', 'https://lichess.org/training/xrvif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XRxyE', 'Rapid', 'Here_comes_the_king', 1817, 'Alexvoorhees', 1742, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,c4,Nf6,Be2,Bb4+,Nc3,O-O,O-O,Re8,Bg5,h6,Bh4,dxc4,Bxc4,Bg4,d5,Ne5,Be2,Bxc3,bxc3,Qd6,Bxf6,Qxf6,Nxe5,Bxe2,Qxe2,Rxe5,Qb5,Rb8,c4,a6,Qb2,Qg5', 'f4,Re2,Qxe2', 'https://lichess.org/training/XRxyE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xRYhE', 'Blitz', 'miladigorji', 2090, 'LM onubense', 2213, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f3,Be7,Qd2,O-O,O-O-O,Nbd7,g4,b5,h4,b4,Nd5,Bxd5,exd5,a5,g5,Nh5,Kb1,Ng3,Rg1,Nxf1,Rdxf1,Nb6,f4,Nc4,Qd3,Nxe3,Qxe3,exf4,Rxf4,Qd7,Nd4,Rae8,Qf3,Bd8,Nf5,Bb6,Rf1,Re5,h5,Rfe8,Qg3,Rxd5,g6,fxg6,hxg6,hxg6,Qxg6,Rde5,b3,Re1+,Rxe1,Rxe1+,Kb2,Be3', 'Nh6+,Kh8,Rf8#', 'https://lichess.org/training/xRYhE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xs03f', 'Rapid', 'grand_foin', 1989, 'jaybird', 1912, 'e4,e6,d4,d5,Bd3,c5,exd5,Qxd5,Qe2,Qxg2', 'Be4,Qxh1,Bxh1', 'https://lichess.org/training/xs03f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XS4RZ', 'Rapid', 'LuisVilla123', 1764, 'Ulm8', 1853, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,Nf6,h3,Bxf3,Bxf3,c6,d3,e6,O-O,h6,Bf4,Bd6,Qd2,Qc7,Bxd6,Qxd6,a3,O-O,Ne4,Nxe4,Bxe4,Nd7,c3,Nf6,Bf3,Rad8,Rad1,Rd7,Qc2,Rfd8,d4,b6,Rfe1,c5,dxc5,Qxc5,Rxd7,Rxd7,Rd1,Rxd1+,Qxd1,Nd5,Bxd5,Qxd5,Qxd5,exd5,f4,f5,Kf2,Kf8,Ke3,Ke7,Kd4,Ke6,g4,fxg4,hxg4,g6,b3', 'h5,gxh5,gxh5', 'https://lichess.org/training/XS4RZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xs5Qh', 'Classical', 'Ihtiander', 1875, 'elaqinn', 1833, 'd4,Nf6,Nf3,e6,e3,d5,Bd3,c5,b3,Nbd7,Bb2,b6,Nbd2,Bb7,O-O,cxd4,Bxd4,Bc5,Bb2,O-O,a3,a5,c4,Ba6,Re1,Qb8,Rc1,Rc8,e4,dxc4,Nxc4,Ng4,Rf1,Bxc4,Bxc4,Nge5,Nxe5,Nxe5,Qe2,Rd8,Rcd1,Rxd1,Rxd1,Qc7,h3,Rd8', 'Rxd8+,Qxd8,Bxe5', 'https://lichess.org/training/xs5Qh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xs5uK', 'Blitz', 'Tamond', 2175, 'dooeyDecimal', 2015, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nf6,Bg5,Be7,Bxf6,Bxf6,Nxf6+,Qxf6,Qd5,Bb7,O-O-O,Rd8,Nxb5,axb5,Bxb5,O-O,Bxc6,Bxc6,Qxc6,Qxf2,Kb1,Rc8,Qxd6,Qxc2+,Ka1,Qxe4,Rhe1,Qxg2,Qxe5,Qc2,h4,Ra8,h5', 'Rxa2+,Kxa2,Ra8+,Qa5,Rxa5#', 'https://lichess.org/training/Xs5uK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xs6pC', 'Rapid', 'plopplop', 1782, 'Nikolay194', 1781, 'e4,e6,d4,d5,Nd2,c5,Ngf3,Qb6,c3,Nc6,exd5,exd5,Bd3,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Qe2+,Ne7,Nf3,Qb4+,Nd2,Be6,O-O,Nc6,Nb3,a6,Bd2,Qb6,Rfe1,Bd6,Bf5,O-O,Bxe6,Bxh2+,Kxh2,fxe6,Qxe6+,Rf7,Be3,Qc7+,Kg1,Rf8,Bc5,Rd8,Rad1,h6,Rxd5,Rxd5,Qxd5,Kh8,Qd6,Qd7,Qxd7,Rxd7,Rb1,Ne5,g3,Rf7,Bd4,Nf3+,Kg2,a5,Bb6,a4,Nc5,Nd2,Rd1,Nc4,Nxa4,Rf6,Bd4,Ra6,b3,Nd6,Nc5,Rxa2,Bxg7+,Kxg7,Rxd6,Ra3,Rd7+,Kf6,Rxb7,Ke5,b4,Kd4,Ne6+,Kc4,b5,Rb3,Nc7,Kc5,Ra7,Kb6,Ra6+,Kxc7,Rxh6,Rxb5,g4,Kd7,f3,Ke7,Kg3,Kf7,Rh5,Rb1,g5,Kg6,Kg4', 'Rg1+,Kh4,Rh1+', 'https://lichess.org/training/Xs6pC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xs7mW', 'Rapid', 'fawze73', 1649, 'MushKing', 1632, 'd4,Nf6,Nc3,d5,f3,g6,e4,c6,Bg5,Bg7,Bd3,dxe4,fxe4,Bg4,Nf3,Bxf3,gxf3,Qxd4,Qe2,Nbd7,O-O-O,O-O,e5,Nxe5,Be4,Qc4,Qf2,Nxe4,Nxe4,Rfd8,Bxe7,Rxd1+,Rxd1,Qxa2,Nc3,Bh6+,f4,Qa1+,Nb1,Nc4,Qd4,Nb6,Bf6,Qa4,Qd8+,Rxd8,Rxd8+,Bf8,Be7,Qxf4+,Nd2,Qxh2,c3,Qh1+,Kc2,Qh5,Rxf8+,Kg7,Re8,Nd5', 'Bf8+,Kf6,Ne4+,Kf5,Ng3+,Kg4,Nxh5', 'https://lichess.org/training/Xs7mW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XS8md', 'Blitz', 'siamak3254', 1666, 'moramosotho', 1729, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,d4,Nf6,Be3,Bf5,c3,e6,Nd2,Bd6,Ndf3,h6,Ne2,O-O,Ng3,Bh7,Qc1,a5,Bc2,Bxc2,Qxc2,Bxg3,hxg3,Ne4,Bxh6,Qf6,Be3,Rfc8,g4,Kf8,Rh8+,Ke7,g5,Qg6,Rxc8,Rxc8,O-O-O,Nb4,Qa4,Nxc3,bxc3,Rxc3+,Kb2,Rc2+,Kb3,Rxf2,Bxf2', 'Qc2+,Ka3,Qxa2#', 'https://lichess.org/training/XS8md');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xSA2F', 'Classical', 'Aviktur', 1698, 'KhaledHabba', 1695, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,c5,Qe3,Be7,b3,Nf6,Be2,d6,O-O,O-O,e5,Nd5,Qg3,dxe5,Qxe5,Qd6,Qxd6,Bxd6,c4,Nf6,Bb2,Ng4,h3,Nh6,Bf3,Kh8,Nc3,Be5,Rab1,Nf5,Rfe1,Bf6,Nd5,Bxb2,Rxb2,Nd4,Be4,f5,Bd3,h5,Ne7,Kh7,Rbb1,Bd7,Nd5,a5,Nb6,Rae8', 'Nxd7,Rxe1+,Rxe1', 'https://lichess.org/training/xSA2F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xsb9w', 'Rapid', 'BGAYLE', 1772, 'JeriLalus', 1740, 'e4,Nc6,Bc4,e6,d4,Na5,Bb3,Nxb3,axb3,b6,Nc3,Bb7,Qh5,Nf6,Qh3,Nxe4,Nxe4,Bxe4,c3,Bd6,f3,Bg6,Ne2,O-O,Nf4,Bxf4,Bxf4,d6,Qg3,a5,h4,h6,h5,e5,Bd2,exd4,hxg6,fxg6,cxd4,Re8+,Kf1,Qf6,Bc3,Re6,d5,Re5,Bxe5,dxe5,Re1,Rf8,Rxe5,Qd6,f4,Qc5,Re1,Qxd5,Qxg6,Rxf4+,Kg1,Qd4+,Kh2', 'Rh4+,Kg3,Qf4#', 'https://lichess.org/training/Xsb9w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XsbDm', 'Rapid', 'Styrke', 1759, 'jiggahertz', 1677, 'e4,e5,d3,Bc5,Nc3,a6,Nf3,Nc6,Bd2,d6,Be2,Nge7,O-O,Be6,Bg5,f6,Bd2,g5,Be3,Ng6,Bxc5,dxc5,Na4,Qe7,b3,b5,Nb2,h5,c3,g4,Nd2,Nf4,d4,cxd4,cxd4,Nxd4,Re1,O-O-O,Nd3,Ndxe2+,Rxe2,Rxd3,Re3,Rxe3,fxe3,Qc5,Nf1,Nxg2,Kxg2,h4,Rc1,Qe7,Rc6,g3,Rxa6,Kb7,Ra5,Kb6,Qd2,gxh2,Kxh2,Rg8,a4,bxa4,bxa4,h3,Rb5+,Kc6,Qc3+,Kd7,Qd3+,Kc8,Ra5,Rg2+,Kh1,Rb2', 'Ra8+,Rb8,Qa6+', 'https://lichess.org/training/XsbDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xSEqM', 'Rapid', 'Korons20', 2077, 'Maximus8888', 2136, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,Nbd7,Nge2,c5,Qd2,a6,O-O-O,Rb8,dxc5,Qa5,cxd6,exd6,Qxd6,b5,cxb5,axb5,Kb1,b4,Nd5,Nxd5,Qxd5,Qa4,Qb3,Qxb3,axb3,Ne5,Nd4,Bb7,Bb5,Ra8,Rc1,Ra5,Rc7,Nxf3,Rxb7,Nxd4,Bxd4,Bxd4,Rd1,Be3,Rd3,Bf4,g3,Be5,Rdd7,Rfa8,Bc4,Ra2,Rxf7', 'Rxb2+,Kc1,Ra1#', 'https://lichess.org/training/xSEqM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XsEtH', 'Rapid', 'ive123', 1665, 'heimo', 1677, 'c4,c5,Nc3,e6,e3,d5,d4,Nf6,Bd3,Nc6,a3,cxd4,exd4,Nxd4,Nf3,Nxf3+,Qxf3,Be7,O-O,O-O,Rd1,b6,Bf4,Bb7,Qg3,Kh8,Be5,Rg8,Be2,Qc8,Rac1,dxc4,Nb5,Bd5,Bd6,Bxd6,Nxd6,Qd7,Bxc4,Bxc4,Rxc4,Qe7,Rdc1,Qd7', 'Rc7,Qxd6,Qxd6', 'https://lichess.org/training/XsEtH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XSG8p', 'Rapid', 'gabriellissimo', 1782, 'WtD5900', 1838, 'e3,d5,d4,c5,c3,e6,Nf3,a6,Ne5,Nf6,Bd3,Nc6,Nxc6,bxc6,Qa4,Bd7,Nd2,c4,Be2,c5,Qc2,cxd4,exd4,Bd6,Nf3,h6,O-O,O-O,Ne5,Qc7,f4,Rab8,Rf3,Ne4,Rh3,Be8,Bf3,f6,Bxe4,dxe4,Ng4,Bg6,g3,Bf5,Qe2,Rb7,Rh5,Qc8,Nf2,Bg6,Rh4,f5,g4,Be7,Rh3,Rc7,Rg3,Qe8,g5,hxg5,fxg5,Bh5,Qf1,Bd6,Rh3,g6,Rh4,Rh7,Bf4,Qb8,Bxd6,Qxd6,Nh3,Rff7,Nf4,Be2,Qf2,Rxh4,Qxh4,Rh7,Qf2,Bf3,Qg3,Bh5', 'Nxh5,Qxg3+,Nxg3', 'https://lichess.org/training/XSG8p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XsHzp', 'Rapid', 'SuhasP', 1625, 'Cako_chess', 1688, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,Bg5,Be7,e3,O-O,Bd3,h6,Bh4,dxc4,Bxc4,a6,Bg3,Bb4,O-O,Bxc3,bxc3,Ne4,Bd3,Nxg3,fxg3,Re8,Qb1,Rb8,Be4,Bd7,Nh4,f5,Bf3,Qf6,Bh5,Red8,Ng6,Be8,g4,Bxg6,Bxg6,Qxg6,gxf5,exf5,Rxf5,Qe6,Qd3,Ne5,Rxe5', 'Qxe5,Qc4+,Qd5,Qxd5+,Rxd5', 'https://lichess.org/training/XsHzp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XsJ4T', 'Blitz', 'humbold', 2329, 'FM joflo', 2429, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Bf4,O-O,e3,c5,dxc5,Ne4,cxd5,Nxc3,bxc3,Bxc3+,Nd2,Bxa1,Qxa1,Qxd5,Bh6,f6', 'Bc4,Qxc4,Nxc4', 'https://lichess.org/training/XsJ4T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XSjWP', 'Classical', 'ad-ngn', 2018, 'lyon64-simon', 1684, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,dxe5,Nxe5,c6,Be2,Bf5,c4,Nb4,O-O,Nc2,g4,Bg6', 'Nxg6,hxg6,Qxc2', 'https://lichess.org/training/XSjWP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XSkhI', 'Classical', 'Huizilo', 1662, 'Jankyee', 1627, 'e4,e6,d4,d5,Nc3,Nf6,e5,Ne4,Nxe4,dxe4,a3,c5,c3,Nc6,Bb5,cxd4,cxd4', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/XSkhI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XSKYR', 'Rapid', 'Barlg', 1895, 'VLADISCHWERIN', 1928, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,g3,e5,Bg2,Nxc3,bxc3,Bc5,Qa4+,Bd7,Qc4,Na6,Bxb7,Qf6,f3,Rb8,Bxa6,Bxg1,Rxg1,Rb6,Bc8,Bxc8,Ba3,Qc6,Qh4,Qf6,Qxf6,Rxf6,O-O-O,Ra6,Kb2,Be6,d4,Bc4,Rd2,f6,e4,Kf7,dxe5', 'Rb8+,Ka1,Rxa3', 'https://lichess.org/training/XSKYR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xSm68', 'Blitz', 'Perseus007', 1510, 'sajumonk', 1515, 'e4,e6,d4,b6,Nc3,Bb7,a3,d6,Bd3,Nd7,Nf3,g6,d5,Bg7,Bd2,Ne7,O-O,O-O,Qc1,e5,Bh6,f5,Bxg7,Kxg7,Ng5,Rf6,exf5,Nxf5,Nce4,Qe7,Nxf6,Kxf6,Bxf5,gxf5,Nf3,Kg7,Ng5,Bxd5,Qd2,c6,c4,f4,cxd5,Qxg5,dxc6,Nf6,Qxd6,f3,g3,Ng4,h3,Ne3,Qd7+,Kh8,fxe3', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/xSm68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XsMDM', 'Rapid', 'AlexBuri', 1638, 'Pvlsation89', 1682, 'b4,Nf6,Bb2,Nc6,b5,Nb8,a4,d6,c4,Bf5,e3,e6,Be2,d5,g4,Be4,f3,Nxg4,fxe4', 'Qh4+,Kf1,Qf2#', 'https://lichess.org/training/XsMDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XsmFr', 'Blitz', 'vidanut', 2088, 'ssserg777', 1940, 'f4,e6,Nf3,g6,g3,Bg7,Bg2,h6,O-O,Nc6,d3,b6,c3,Bb7,Qc2,Qe7,Nbd2,Qc5+,Kh1,h5,e4,Bf6,d4,Qe7,e5,Bg7,Ng5,O-O-O,Nc4,h4,g4,h3,Bf3,f6,exf6,Bxf6,Ne4,Bg7,g5,d5,Ned2,dxc4,Nxc4,a6,Qxg6,Kb8,Kg1,Bxd4+,cxd4,Nxd4,Bxb7,Kxb7,Qe4+,Kb8,Be3,Nf5,Bf2,Qg7,Qxe6,Nh4,b4,Nf3+,Kh1,Qc3,Nxb6,Nd2,Nd7+,Rxd7,Qxd7', 'Qf3+,Kg1,Qg2#', 'https://lichess.org/training/XsmFr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XSNIt', 'Rapid', 'wasiwan', 1835, 'shadi90', 1862, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,c6,e3,Nbd7,Nf3,Be7,Be2,h6,Bxf6,Nxf6,cxd5,exd5,O-O,O-O,Rc1,Qd6,a3,Ng4,h3,Nf6,b4,Be6,Qb3,Rac8,Ne5,Rfe8,Rb1,b6,a4,a6,Rfc1,c5,bxc5,bxc5,Nf3,cxd4,Nxd4,Rb8,Qa2,Qe5,Rxb8,Rxb8,Nc6,Qc7,Nxb8,Qxb8,Qb1,Qe5,Bxa6,Bd6,g3,Nh5,Qc2,Bxh3,Qd3,Nxg3,Qxd5', 'Ne2+,Bxe2,Qh2#', 'https://lichess.org/training/XSNIt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xsnIu', 'Rapid', 'nobodynose', 1631, 'hombre3', 1625, 'd4,c6,e4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,Bxe4,Bxe4,Nf6,Qe2,Nxe4,Qxe4,e6,Nf3,Nd7,O-O,Nf6,Qd3,Bd6,Bg5,h6,Bh4,Be7,Bg3,Nd5,c3,Rc8,Be5,O-O,Rfe1,c5,Rac1,c4,Qe4,Bg5,Rc2,b5,Nxg5,Qxg5,h4,Qe7,Bg3,b4', 'Qxd5,exd5,Rxe7', 'https://lichess.org/training/xsnIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XSo1H', 'Blitz', 'chrisp99', 2060, 'eeegnu', 1970, 'c4,e5,g3,Nf6,Bg2,d5,cxd5,Nxd5,Nf3,Bc5,Nxe5,Qf6,Nf3,Be6,d4,Bb6,O-O,O-O,Nc3,Nc6,Bg5,Qg6,Qd2,h6,Nxd5,Bxd5,Be3,Rad8,Ne5', 'Nxe5,Bxd5,Rxd5,dxe5,Rxd2', 'https://lichess.org/training/XSo1H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XSOnn', 'Rapid', 'Omniarch', 2168, 'No_soy_yo', 2188, 'c4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,a3,d6,Rb1,a5,Nf3,e5,O-O,Nge7,Ne1,Be6,d3,O-O,Nc2,d5,cxd5,Nxd5,Ne4,b6,Ng5,Bc8,Ne3,Nxe3,Bxe3,Bb7,b4,axb4,axb4,cxb4,Qb3,Ra3,Qc4,Rc3,Qb5,Qe7,Qxb6,Ra8,Ra1,b3,Bd5,Rf8,Ra7,Nxa7,Qxa7,Rc7,Bxb3,Bg2,Qa2,Bxf1,Kxf1,h6,Ne4,Rb8,Kg2,Rcb7,Bd5,Rb2,Qc4,Rxe2,Bc5,Qd7,Nd6,Rbb2,Bxf7+,Kh7', 'Bg8+,Kh8,Nf7+,Kxg8,Nxe5+,Kh8,Nxd7', 'https://lichess.org/training/XSOnn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XSpXn', 'Rapid', 'MrCached', 1706, 'Richards_Knights', 1739, 'd4,d5,c4,e6,Bf4,Bd6,Bxd6,Qxd6,e3,c5,Nf3,Nf6,Nc3,Nc6,cxd5,exd5,dxc5,Qxc5,Bb5,O-O,O-O,Bg4,Rc1,Ne5,Be2,Ng6,h3,Bxf3,Bxf3,Rad8,Nxd5,Qd6,Nxf6+,Qxf6,Qb3,Ne5,Be2,b6,Rc7,a5,Rfc1,h6,f4,Ng6,R1c6,Rd6,Qxb6,Rxc6,Rxc6,Qf5,Qb3,Qb1+,Kh2,Qe1,Bf3,Nh4,Qd1,Qb4,Qd4,Nxf3+,gxf3,Qb5,Qc4,Qxb2+,Kg3,Qb1,Qc2,Qg1+,Kh4,Qe1+,Kg4,Qg1+,Kh4,g5+,Kh5,Qh1,Qf5', 'Qxf3+,Kxh6,Qxc6+', 'https://lichess.org/training/XSpXn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XsPZU', 'Rapid', 'dwadwadaw', 2005, 'caldare', 2003, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,e6,Nc3,Nf6,O-O,Nc6,h3,Bxf3,Bxf3,Be7,Bf4,a6,Ne2,O-O,b3,Rc8,c4,dxc4,bxc4,Na5,d5,exd5,cxd5,Ne8,Bg4,Rc5,Bf3,Nd6,Be3,Rc8,Bd4,Bf6,Bg4,Rc4,Qd3,Bxd4,Nxd4,Qf6,Nf5,Nxf5,Bxf5,g6,Bg4,Rd8,Bf3,b5,Rac1,Rdc8,Qd2,Nb7,Be2,Rxc1,Rxc1,Rxc1+,Qxc1,Nd6,Qc6,Ne4', 'Qe8+,Kg7,Qxe4', 'https://lichess.org/training/XsPZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xsQGR', 'Rapid', 'monty1104', 1641, 'Vivek9386', 1652, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,a6,d3,e5,Bg5,Be7,Nge2,Qb6,b3,Nc6,Bxf6,Bxf6,Nd5,Qd8,Nxf6+,Qxf6,O-O,O-O,f4,exf4,Rxf4,Qe5,c3,f5,d4,cxd4,cxd4,Qb5,Nc3,Qb6,Ne2,Bd7,Kh1,fxe4,Bxe4,Rxf4,gxf4,Rf8,Bd5+,Kh8,Qd3', 'Nb4,Qd2,Nxd5', 'https://lichess.org/training/xsQGR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xsSrC', 'Blitz', 'hakanerkam', 2193, 'CM jacobomelendez', 2301, 'd4,d5,Bf4,e6,e3,f5,Be2,Nf6,Nf3,Bd6,Ne5,O-O,c4,c5,cxd5,exd5,O-O,Nc6,Nc3,Be6,dxc5', 'Bxe5,Bxe5,Nxe5', 'https://lichess.org/training/xsSrC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xsSVj', 'Rapid', 'Aladan135', 2128, 'prof99', 2090, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,Nc3,Be7,d4,O-O,Ne5,Qc7,Bf4,Qb6,Na4,Qd8,Re1,cxd4,Qxd4,Nc6,Nxc6,bxc6,Bg5,h6,Bh4,Re8,Re3,Rb8,c3,Ne4,Bxe7,Rxe7,Rae1,Rbb7', 'Rxe4,Rxe4,Rxe4', 'https://lichess.org/training/xsSVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xsTth', 'Classical', 'Betcomcpiey', 2023, 'Krawall24', 2052, 'e4,c5,b3,Nc6,Bb2,Nf6,e5,Nd5,c4,Nc7,f4,g6,Nf3,Bg7,d4,cxd4,Nxd4,Nxd4,Qxd4,Ne6,Qe3,O-O,Nc3,d6,Nd5,dxe5,Bxe5,b5,O-O-O,Qa5,Kb2,Bb7,Nxe7+,Kh8,Bxg7+,Nxg7,Qc3,b4,Qf6,Rae8,Bd3,Bxg2,Rhe1,Qc7,Re5,Bh3,Rg1,Qd7,Rg3,Qd4+,Kc2,Bg4,Rxg4', 'Qc3+,Kd1,Qxd3+', 'https://lichess.org/training/xsTth');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xstW3', 'Rapid', 'tontoalastres', 2076, 'NM manneredmonkey', 2381, 'e3,d5,d3,e5,h3,Nf6,a3,c5,b3,Nc6,g3,Bd6,Bg2,O-O,Ne2,Re8,Bb2,h6,Nd2,Be6,c4,Qd7,Qc2,Rac8,O-O-O,a6,f4,b5,cxd5,Nxd5,Nf1,exf4,Nxf4,Bf8,Kb1,Ncb4,axb4,cxb4,Qd2,Nc3+,Bxc3,bxc3,Qc2,Bxb3,Qxb3,c2+,Kc1,cxd1=Q+,Kxd1,Qc7,Bd5,Re7,Ng6', 'Qc1+,Ke2,Rc2+,Qxc2,Qxc2+', 'https://lichess.org/training/xstW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xsTZx', 'Classical', 'lolretrorat', 1627, 'cheetah6969', 1661, 'e4,c5,Nf3,d5,Bb5+,Bd7,Bxd7+,Qxd7,exd5,Qxd5,Nc3,Qd8,d3,e6,Bf4,Nf6,Nb5,Qa5+,Nc3,Nd5,Bd2,Qd8,Qe2,Be7,O-O-O,O-O,Rhe1,a6,Ne5,Bf6,g4,b5,g5,Bxe5,Qxe5,b4,Nxd5,Qxd5,Qg3,Qxa2,c3,Qa1+,Kc2,Qa2,Rb1,Qa4+,Kc1,Nc6,h4,Rab8,h5,bxc3,Bxc3,Nd4,g6,Nb3+,Kd1,h6', 'gxf7+,Rxf7,Qxb8+', 'https://lichess.org/training/xsTZx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xSU3c', 'Rapid', 'roflgrins', 2179, 'chohan11', 2182, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nde2,Be6,g4,Be7,Ng3,Nc6,Be3,d5,g5,Nxe4,Ncxe4,dxe4,Nxe4,O-O,h4,Nd4,Bg2,Rc8,c3,Nf5,Qf3,Nxe3,Qxe3,Bf5,Ng3,Bc5,Qf3,Be6,O-O,b5,Rad1,Qc7,a3,Bb3,Rd2,f6,Qe4,fxg5,hxg5,Rf4,Qd3,Rcf8,Bd5+,Bxd5,Qxd5+,Kh8,Kg2,Qe7,Re2,Bd6,f3,Bc7,Ne4,h6,Rh1,Rxe4,Rxe4,Qxg5+,Rg4,Qf6,Rf1,Rd8,Qc5,Bb6,Qb4,Rd2+,Kh1,Qf5,Qe4,Qh5+,Rh4,Qg5,Rg4,Qf6,Qa8+,Kh7,Qe4+,Kh8,Rg6,Qe7,Rxb6,Qe8,Rxa6,Qh5+,Kg1', 'Qh2#', 'https://lichess.org/training/xSU3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xSuOg', 'Blitz', 'GM Kelevra317', 2871, 'GM Mapwright', 2778, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,O-O,Be7,Be3,Nc6,Kh1,Bd7,Nb3,b5,a3,O-O,f4,Qc7,Qe1,Rab8,Qg3,b4,axb4,Nxb4,e5,Nfd5,Nxd5,Nxd5,Bd3,Nxe3,Qxe3,dxe5,fxe5,Bb5,Nd4,Bxd3,Qxd3,Rfd8,Rxa6,Qxe5,c3,Rxb2,Qf3,Bf6,Nc6,Qd6,c4,Rf8,Ra5,h6,Rb5,Rd2,c5,Qd7,Rb6,Qd5,Qxd5,Rxd5,Rc1,Bg5,Rbb1,Rc8,Na7,Rcxc5,Rxc5,Rxc5,g3,h5,Nb5,Be3,Nd6,Rc7,Kg2,g6,Rb8+,Kh7,Kf3,Bc5,Ne8,Re7,Nf6+,Kg7,Ne8+,Kh6,Nf6,Bd4', 'Ng8+,Kh7,Nxe7', 'https://lichess.org/training/xSuOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xsw9k', 'Rapid', 'Fury1_a', 1687, 'Panpan2020', 1640, 'e4,e6,d4,d5,e5,c5,c3,Nc6,b3,Nge7,Bg5,h6,Bh4,g5,Bg3,Nf5,Ne2,cxd4,cxd4,Bb4+,Nd2,Ncxd4,Nxd4,Nxd4,a3,Bxd2+,Qxd2,Nxb3,Qb2,Qa5+,Ke2,Nxa1,Kf3,Qe1', 'Bb5+,Kf8,Rxe1', 'https://lichess.org/training/Xsw9k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xSX1j', 'Rapid', 'Pri_X', 1965, 'marcototor', 2076, 'e4,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,Nc3,Nxc3,dxc3,d6,Bc4,dxe5', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/xSX1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xsX2x', 'Rapid', 'iron-man', 2082, 'eliasrod', 2116, 'e4,e6,Nf3,d5,exd5,exd5,Be2,Nf6,O-O,Bd6,h3,O-O,d3,c6,Bg5,Bf5,Nc3,Nbd7,Nh4,Be6,Re1,Qb6,b3,Bb4,Na4,Qa5,Rf1,b5,a3,bxa4,axb4,Qxb4,Rxa4,Qc3,Bd2,Qe5,Nf3,Qc7,Ba5,Nb6,Rh4,Qb7,Ne5,c5,Bg4,Bxg4,Nxg4,Nxg4,Qxg4,Qc6,Qh5,h6,Rg4,Rae8,f4,Re2,f5,Qf6,b4,Rxc2,bxc5,Nd7,c6,Ne5,Bb4,Rc8,Be7,Qxe7', 'f6,Qxf6,Rxf6', 'https://lichess.org/training/xsX2x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xsxbZ', 'Rapid', 'kraminiki', 1957, 'Patense', 1935, 'Nf3,d5,e3,Nc6,b3,Nf6,Bb5,g6,Bb2,Bg7,Bxc6+,bxc6,Ne5,Qd6,f4,O-O,O-O,Nd7,Nd3,Bxb2,Nxb2,e5,Rf3,Nc5,fxe5,Qxe5,d4,Qg7,Nd2,Bg4,h3,Bxf3,Qxf3,Rfe8,Re1,Ne4,Nxe4,Rxe4,c4,Rae8,Nd1,f5,g3,Rxd4,Rf1,dxc4,exd4,Qxd4+,Kg2,cxb3,Qxb3+,Qd5+,Qxd5+,cxd5,Kf3,c5,Nf2,d4,Rc1,Re3+,Kg2,Re2,Rxc5,d3,Kf1,Rxa2,Nxd3,Kg7,h4,Ra3,Ke2,Kf6,Rd5,Ke6,Re5+,Kd6,h5', 'Rxd3,Ra5,Rxg3', 'https://lichess.org/training/xsxbZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xszmM', 'Rapid', 'eMeNe', 1747, 'SebbyCPA', 1756, 'e4,Nc6,Nf3,e5,d4,exd4,Bc4,d6,c3,dxc3,Nxc3,Bg4,Qb3,Rb8,Bxf7+,Kd7,Bxg8,Be7,Bd5,Bxf3,Bxc6+,bxc6,Qc2,Bxg2,Rg1,Bh3,Rxg7,Rg8,Rxh7,Rg1+,Ke2,Bf1+,Ke3,Kc8,Ne2,Bg5+,Nf4,Bxf4+,Kxf4,Qg5+,Kf3,Qg4+,Ke3,Bb5,Rh8+,Kb7,Rxb8+,Kxb8,Qb3,Re1+,Kd4,c5+,Kc3,Qf3+,Be3,Qe2,Rxe1', 'Qd3#', 'https://lichess.org/training/xszmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xt314', 'Blitz', 'Junioretr', 1580, 'Mars310', 1574, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,e5,Bc5,Qf4,Qe7,O-O,Nh5,Qf3,g6,Qxa8,O-O,Bxh6,Re8,Rfe1,c6,g4,Ng7,Ne4,Qxe5,g5,Qd4,Nf6+,Kf8,Nxe8', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/Xt314');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xt4AJ', 'Classical', 'l0jtari', 1685, 'mkskhv68', 1696, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Qb6,Bxc6+,Qxc6,Ne2,Ne7,O-O,Nf5,Bg5,Be7,Qd2,h6,Bxe7,Nxe7,f4,Nf5,Ng3,Nxg3,hxg3,Bd7,Rc1,f6,b4,c4,a4,O-O-O,b5,Qb6,Qb2,fxe5,fxe5,Rdf8,Qb4,Rf7,Rc2,Rhf8,Rb2,Rf1+,Kh2,Rd1,a5,Qxb5,Qxb5,Bxb5,Rxb5,Rff1,Kh3,h5,Kh4,g6,Rc5+,Kb8,a6,b6,Rc6,Rf5,g4', 'Rh1+,Kg3,h4#', 'https://lichess.org/training/Xt4AJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xT4EN', 'Blitz', 'SilencerBaba', 2249, 'anonchess93', 2404, 'e4,d5,exd5,Nf6,d4,Bg4,Ne2,e6,dxe6,Bxe6,Nf4,Bf5,Bd3,Qe7+,Be3,Bg4,Be2,Qb4+,Nd2,Bxe2,Nxe2,Nc6,c3,Qxb2,Rb1,Qxa2,Rxb7,Na5,Rb5,Nc6,O-O,Bd6,c4,Qa6,Qb3,Rd8,Nc3,Ng4,Nf3,O-O,h3,Nxe3,fxe3,Rfe8,e4,Bf4,d5,Ne5,Nxe5,Bxe5,Ne2,c6,Rb7,cxd5,Rfxf7,dxc4,Qf3,Qd6', 'Rxg7+,Bxg7,Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/xT4EN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xt5Bp', 'Blitz', 'Xinvoker', 2022, 'mschnitzel', 1863, 'e4,e5,f4,d5,exd5,e4,Bc4,Nf6,Nc3,Bg4,Nge2,Bc5,h3,Bh5,g4,Bg6,f5,Nxd5,Nxd5', 'Qh4+,Ng3,Qxg3+,Kf1,Qf2#', 'https://lichess.org/training/Xt5Bp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XT5Oq', 'Rapid', 'maia9', 1812, 'antacolorado', 1899, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Nbd7,Qf3,Qc7,O-O-O,b5,g4,b4,Nce2,Bb7,Ng3,Nc5,Bxf6,gxf6,Bg2,Be7,Nh5,b3,axb3,Kd7,Rhe1,Bxe4,Rxe4,Nxe4,Qxe4,d5,Qe2,Qa5,Kb1,Rhg8,f5,e5,Nf3,Kc8,Nxe5,fxe5,Bxd5,Ra7,Bxf7,Rd8,Be6+,Kb8,Rxd8+,Qxd8,Qxe5+,Bd6,Qd4,Rb7,Bd5,Re7,f6', 'Re1+,Ka2,Qa5+,Qa4,Qxd5', 'https://lichess.org/training/XT5Oq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xT6wj', 'Classical', 'novi77', 1859, 'Mightyknight007', 1957, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,d6,c4,Nf6,Nc3,Be6,Be3,Be7,Be2,O-O,O-O,Ne8,Qc2,f5,exf5,Bxf5,Bd3,Bxd3,Qxd3,Nf6,Nd5,Qd7,Rae1,Rae8,Bg5,Nxd5,Qxd5+,Kh8,Bxe7,Rxe7,Rd1,Rf5,Qxd6,Qxd6,Rxd6,h6,g3,Re2,f4,Rxb2,Rf2,Rb1+,Kg2,Kh7,Re2,a6,Kh3,Rb4,Kg4,Rf8,Re7,Rxc4,Rxb7,Ra4,Kh5,Rf5+,Kg4,Rg5+,Kf3,Ra3+,Kg2,Rxa2+,Kh3,Rh5+,Kg4,Rhxh2,Rdd7,Ra3,Rxg7+,Kh8,Rh7+,Kg8,Rbg7+,Kf8,Kf5,Rb3,Rc7,Kg8,Rhd7,Rb8,Rxc5', 'Rh5+,Ke4,Rxc5', 'https://lichess.org/training/xT6wj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xt9Nq', 'Rapid', 'OtezZapli', 1715, 'gabrielATHENA', 1808, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,e5,d3,e4,dxe4,Qxd1+,Kxd1,Ng4,Be3,Be6,h3,Nxe3+,fxe3,O-O-O+,Nbd2,Bc5,Nd4,Nxd4,exd4,Rxd4,Kc2,f5,Bd3,Rhd8,exf5', 'Rxd3,fxe6,Rxd2+', 'https://lichess.org/training/Xt9Nq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xtAyg', 'Rapid', 'AlanGarcia', 1702, 'exandtrix', 1682, 'd4,Nf6,c4,e6,Nf3,c5,d5,exd5,cxd5,d6,Nc3,a6,e4,Bg4,h3,Bh5,Be2,Bg6,Nd2,Be7,O-O,O-O,Re1,Nbd7,Bf1,Re8,Nc4,Bf8,Bd3,Ne5,Nxe5,Rxe5,Bf4,Re8,Rc1,Rb8,b3,b5,Qf3,b4,Nd1,Qa5,Ra1,Nxd5,Nb2,Nxf4,Qxf4,Rbd8,Nc4,Qc7,Ne3,Qc6,Nd5,Re5,Bc4,Rde8,f3,a5,Rad1,Be7,g4,Bg5,Qg3,Qd7,h4,Be7,h5,Bxh5,gxh5', 'Rg5,Kf2,Rxg3', 'https://lichess.org/training/xtAyg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XtB4c', 'Rapid', 'SQej', 2084, 'SEL2525', 2026, 'e4,c6,Nf3,d5,exd5,cxd5,d4,a6,Bd3,Bg4,h3,Bh5,g4,Bg6,Bxg6,hxg6,Bf4,Nf6,Nc3,e6,Qd3,Nc6,Ne5,Nb4,Qd2,Qc7,a3,Nc6,Nxg6,Qb6,Nxh8,Be7,Be5,Nxe5,dxe5,Nd7,Qe2,Qxb2,Kd2,d4,Ne4,Rc8,Qd3,Nxe5,Qb3,Nf3+,Ke2', 'Rxc2+,Qxc2,Qxc2+', 'https://lichess.org/training/XtB4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xtb8Z', 'Rapid', 'mathfreak2', 1649, 'orion_time', 1715, 'e4,d6,Nf3,e5,Bc4,a6,O-O,h6,h3,Nf6,d3,g5,g4,Ng8,Be3,f6,Nc3,h5,Nd2,hxg4,hxg4,Rh4,f3,Qe7,Nd5,Qh7,Kf2,Rh2+,Ke1,Nc6,Bg1,Rg2,c3,Rxg1,Rxg1,Qh4+,Kf1,Qh3+,Ke1,Kd8,Qe2,b5,Bb3,Nh6,Qg2,Qh4+,Qg3,Bg7,Qxh4,gxh4,g5,fxg5,Rxg5,Bh8,Rh5,Bg7,Rxh4,Bb7,Nf6,Ne7,Ke2,Ng6,Rh2,Bc8,Bd5,Rb8,Rah1,Nf4+,Ke3,b4,c4,a5,b3,Ke7,Ng4,Bxg4,fxg4,Nxg4+,Kf3,Nxh2+,Rxh2,Nxd3,Rh7,Kf6,Ke3,Nc1,Nf1,Nxa2,Ng3,Kg6,Rh5,Nc3,Rf5,a4,Bf7+,Kh7,Rh5+,Bh6+,Kd3,axb3', 'Nf5,b2,Rxh6#', 'https://lichess.org/training/Xtb8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xTcI5', 'Rapid', 'TagirG', 1625, 'pippone27', 1933, 'Nf3,g6,d4,Bg7,c4,d6,e3,Nc6,Nc3,e5,d5,Nce7,e4,f5,exf5,Bxf5,Bd3,Nf6,Bg5,O-O,O-O,h6,Bxf6,Bxf6,Bxf5,Nxf5,Ne4,Bg7,a4,a5,Qd2,Nh4,Nxh4,Qxh4,f3,b6,b4,Qf4,Qc3,h5,bxa5,Rxa5,Qc1,Bh6,Qxf4,Bxf4,g3,Be3+,Kg2,Rfa8,Rfe1,Bd4,Rac1,Rxa4,Nf6+,Kg7,Ne4,Ra2+,Kh3,Rb2,Rb1,Rc2,Rec1,Raa2,Rxc2,Rxc2,f4,Rxc4,fxe5,Bxe5,Ng5,Rc2,Rf1,h4,Rf7+,Kh6,Kxh4,Rc4+,g4,Bg7,Ne6,g5+,Nxg5,Kg6,Rf5', 'Bf6,Kg3,Bxg5', 'https://lichess.org/training/xTcI5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xTcsu', 'Classical', 'Aidy', 2004, 'magnusotuedon', 2059, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Nc3,O-O,d3,d6,a3,Be6,Nd5,Qd7,Ng5,h6,Nxe6,fxe6,Nxe7+,Qxe7,f4,d5,exd5,exd5,Ba2,Nd4,fxe5,Qxe5,Bd2,c6,c3', 'Ne2+,Qxe2,Qxe2', 'https://lichess.org/training/xTcsu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XTDKV', 'Rapid', 'DaK1w1', 1609, 'divad09', 1630, 'e4,e5,Nf3,Nc6,b3,Nf6,Nc3,Bb4,Bb2,O-O,a3,Bc5,b4,Bd4,Nxd4,exd4,e5,dxc3,Bxc3,Ne4,Bb2,Re8,f3,Ng5,f4,Ne4,Qe2,d5,g3,f6,exf6,Nd6,Be5,Nxe5,fxe5,gxf6,d4,Nf7,Bg2,fxe5,dxe5,Rxe5,Qxe5,Nxe5,Rd1,Be6,c4,Nxc4,O-O,Ne3,Bxd5,Nxd1,Bxe6+,Kg7,Rf7+,Kg6,Bf5+,Kg5', 'h4+,Kh6,Rxh7#', 'https://lichess.org/training/XTDKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XTdUy', 'Rapid', 'lordmagnus150', 1918, 'anvalon', 1886, 'e4,c6,Nf3,d5,d4,dxe4,Nfd2,Qxd4,Nc3,Nf6,Be2,e3,fxe3,Qxe3,Nf3,Qc5,Qd4,Qxd4,Nxd4,Bg4,Bxg4,Nxg4,O-O,e6,Bf4,e5,Rae1,Bd6,h3,O-O,hxg4,exf4,Nf5,Bc5+,Kh1,g5,Ne4,Bb6,Nxg5,Nd7,Rf3,Bc7,Rh3,Nf6,Nh6+,Kg7,Nhxf7,Rxf7,Nxf7,Kxf7,g5,Ng4', 'Rxh7+,Kg6,Rxc7', 'https://lichess.org/training/XTdUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xTELi', 'Rapid', 'AntonKostin', 1736, 'urez2beat', 1660, 'c4,c5,d4,cxd4,Nf3,g6,Qxd4,Nf6,Bg5,Bg7,Nc3,O-O,O-O-O,Nc6,Qf4,Nh5,Qd2,d6,e4,Qb6,Nd5,Qa6,b3,Qa3+,Kb1,Nb4,Nxe7+,Kh8,Nd5,Nxd5,exd5', 'Bf5+,Bd3,Bxd3+,Qxd3,Qb2#', 'https://lichess.org/training/xTELi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xtfkp', 'Classical', 'abdo_hashem7', 1685, 'amir202010', 1650, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bb5,Qc7,Bg5,a6,Ba4,b5,Bb3,b4,Nxc6,bxc3,Qd4,cxb2,Rb1,Qxc6', 'Ba4,Qxa4,Qxa4+', 'https://lichess.org/training/Xtfkp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XTgb4', 'Rapid', 'Raerhix27', 2072, 'Antipode13', 2068, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Nxe5,Nxe5,d4,Ng6,e5,Ng8,Bc4,N8e7,Qf3,d5,Nxd5,Nxd5,Bxd5,Qe7,Bxb7,Bxb7,Qxb7,Qd8', 'Qc6+,Qd7,Qxa8+', 'https://lichess.org/training/XTgb4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xtgdE', 'Rapid', 'Zelmak27', 1618, 'MRA27', 1620, 'e4,e5,Bc4,Nc6,d3,Bc5,c3,d6,b4,Bb6,a4,a6,a5,Ba7,Nf3,Bg4,Nbd2,Qf6,h3,Bh5,O-O,Nge7,Bb2,O-O,d4,exd4,cxd4,Bxd4,Bxd4,Nxd4,Be2,Nec6', 'Nxd4,Qxd4,Bxh5', 'https://lichess.org/training/xtgdE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xtgo7', 'Classical', 'Trekkab', 1735, 'Alnair', 2026, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bb4,Bxc6,dxc6,Nxe5,Qe7,Nd3,Nxe4,O-O,Nxc3,dxc3,Bd6,Re1,Be6,Nf4,O-O-O,Qf3,Qh4,g3,Bg4,Qg2,Qf6,Be3,Rhe8,Bd4,Qf5,h3,Bf3,Qxf3,g5,Qd3,Qd7,Nh5,Qxh3,Rxe8,Rxe8,Ng7,Re7,Qf5+,Qxf5,Nxf5,Re2,Nxd6+,cxd6,Bxa7,Rxc2,Be3,g4,Bf4,d5,Re1,Kd7,Re5,Rxb2,Rh5,Rxa2,Rxh7,Ke6,Rh6+,Kf5,Rh5+,Ke4,Kg2,f5,Rh7,Rb2,Re7+,Kd3,Be5,Re2,Bf6', 'Rxe7,Bxe7,Kxc3', 'https://lichess.org/training/Xtgo7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xtgSE', 'Rapid', 'wirerabbit', 1759, 'javier-_-diaz', 1713, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,c3,Nf6,Qf3,Bc5,e5,Qe7,O-O,Qxe5,d3,O-O,Bf4,Qf5,Nd2,Nh5,Bxc7,d6,Qxf5,Bxf5,Ne4,b6,Nxc5,bxc5,Bxd6,Rfe8,Rfe1,Rad8,Rxe8+,Rxe8,f3,Re2,g4,Bd7,gxh5,Rxb2,Bxc5,Rc2,Bxd4,g6,hxg6,hxg6,Rf1,Kh7,Rf2,Rc1+,Kg2,a5,f4,Bc6+,Kg3,Rg1+,Kh4,f5,Re2,Kh6,Bf6,Bf3,Bg5+,Kg7,Re7+,Kf8,Rh7', 'Rg4+,Kh3,Bg2#', 'https://lichess.org/training/xtgSE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XThDu', 'Rapid', 'lgb', 2003, 'ic1moveahead', 1985, 'd4,d5,e3,f5,c4,e6,Nc3,c6,Qb3,Nf6,f3,Be7,Nh3,O-O,Nf4,g5,Nfe2,Nbd7,c5,Rf7,f4,Nf8,fxg5,Nh5,h4,Ng6,Bd2,Qc7,O-O-O,b6,Na4,b5,Nac3,a5,Qc2,a4,Nb1,e5,Bb4,f4,exf4,exf4,Nd2,Bf5,Qc3,Bf8,Qf3,Bg7,Qxh5,Re8,Qf3,Re3,Qf2,Qe7,h5,Nf8,Nxf4', 'Bxd4,Nf3,Rc3+,Bxc3,Bxf2', 'https://lichess.org/training/XThDu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xTHqa', 'Rapid', 'GodOfBlunder94', 1851, 'pratik1111', 1840, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bg5,Nc6,Nc3,e6,g3,Bb4,a3,Ba5,Bg2,Bd7,Bd2,O-O,O-O,Bc7,Ne2,e5,dxe5,Nxe5,Ned4,Nc4,Bc3,Ne4,Nh4,Nxc3,bxc3,Bc6,Re1,Bb6,Qg4,Bd7,Qf3,Be6,Nxe6,fxe6,Qg4,Bxf2+,Kh1,Bxe1,Qxe6+,Kh8,Bxd5,Bxc3', 'Ng6+,hxg6,Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/xTHqa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XThTZ', 'Rapid', 'peymanrajeh', 1689, 'dgr8zubi', 1826, 'e4,c5,d3,Nc6,Nf3,d6,Nc3,Nf6,Be2,e5,O-O,Be7,Nd5,Nxd5,exd5,Nd4,Nxd4,cxd4,f4,O-O,fxe5,dxe5,Bf3,Rb8,Bd2,b6,Qe2,f6,Rae1,Bb7,Qe4,Qd7,c3,dxc3,bxc3,Rfd8,c4,Bc5+,Be3,Qd6,d4,exd4,Bf4,Qf8,Bxb8,Rxb8,Qd3,Qf7,Be4,g6,Bf5,gxf5', 'Qg3+,Kh8,Qxb8+', 'https://lichess.org/training/XThTZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xtj5E', 'Rapid', 'jprata', 1813, 'daguilarCHT', 1801, 'e4,c5,b3,Nc6,Bb2,e5,Nf3,d6,Nc3,Nf6,Bc4,Na5,Bb5+,Bd7,a4,Bxb5,Nxb5,a6,Nc3,b5,axb5,axb5,Nxb5,Nxe4,d3,Nf6,Bc3,Be7,O-O,Qb6,Bxa5,Rxa5,Rxa5,Qxa5,c4,O-O,Ng5,Rb8,f4,h6,fxe5,dxe5,Nf3,e4,dxe4,Nxe4,Re1,f5,Qd5+,Kh8,Qxf5,Rf8,Qxe4,Bf6,Nh4,Bxh4,Qxh4,Qd2,Qe7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/Xtj5E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XTjOQ', 'Classical', 'IshmaelKissinger', 1812, 'Fuchsl', 1982, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,Nc6,c4,g6,Nc3,Bg7,Be3,O-O,Be2,Bd7,O-O,Nxd4,Bxd4,Bc6,Rc1,Nd7,Nd5,Bxd5,cxd5,Bxd4+,Qxd4,Nb6,b3,Rc8,f4,Qd7,h3,Rxc1,Rxc1,Rc8,Rxc8+,Qxc8,Kh2,Qc1,e5,Qc2,Bb5,Qxa2,exd6,exd6,Bc4,Nxc4,bxc4,a5,c5,Qa3', 'c6,bxc6,dxc6,Qc1,Qxd6', 'https://lichess.org/training/XTjOQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XTjzx', 'Rapid', 'drturhan', 1759, 'notabishop', 1729, 'd4,b5,c4,bxc4,e4,Bb7,Nc3,Nf6,f3,d5,e5,Nfd7,Bf4,e6,Nh3,c5,b3,cxd4,Qxd4,Bc5,Qd2,cxb3,axb3,Qb6,Rb1,Bb4,Be3,Qa5,Bd4,Nc6,Rc1,Nxd4,Qxd4,Nc5,Kf2,Nxb3,Bb5+,Ke7,Qh4+,f6,exf6+,gxf6,Rhe1,Bxc3,Rxe6+,Kxe6,Nf4+,Ke5,Nd3+,Ke6,Qg4+,Kf7,Qd7+,Kg6,Nf4+,Kh6,Qh3+,Kg7,Qd7+,Kh6,Qh3+,Kg5,Ne6+,Kg6,Qg4+,Kf7,Ng5+,Kf8,Ne6+,Ke7,Ng5,Qb6+,Kg3,Be5+,Kh3,Nxc1', 'Qd7+,Kf8,Qf7#', 'https://lichess.org/training/XTjzx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xTk5K', 'Rapid', 'frantic00', 1772, 'drunkmanz', 1828, 'd4,d5,c4,Nf6,Nc3,Bf5,Bf4,e6,e3,Bb4,Ne2,Bg4,f3,Bf5,a3,Bxc3+,Nxc3,O-O,c5,Nc6,Bd3,Re8,Nb5,Bxd3,Qxd3,e5,dxe5,Nxe5,Bxe5,Rxe5,O-O,d4,exd4,a6,Nd6,Rd5,Nxb7,Rxd4,Nxd8,Rxd3,Nc6,Rd2,Ne7+,Kf8,Nf5,Re8,b4', 'Ree2,Rfd1,Rxg2+', 'https://lichess.org/training/xTk5K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xTLJQ', 'Rapid', 'ChesskingCasa', 2020, 'pawntakes1', 1845, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bg4,d5,a6,Bxc6+,bxc6,dxc6,Ne7,h3,Bh5,Bg5,f6,Be3,Nxc6,Nc3,Be7,O-O,O-O', 'Qd5+,Kh8,Qxc6', 'https://lichess.org/training/xTLJQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XtlN9', 'Classical', 'jenspetermann', 1767, 'jogonza2020', 1735, 'd4,f5,Nf3,Nf6,Bg5,d5,e3,Be6,Ne5,Nbd7,Bxf6,Nxf6,Bb5+,c6,Nxc6,Qb6,Nxa7+,Bd7,Bxd7+,Kxd7,Qf3,Rxa7,Qxf5+,Qe6,Qd3,Kd8,Nc3,Qb6,b3,e6,O-O,Bb4,a3,Bxc3,Qxc3,Qc6,Qb4,Ne4,Rfd1,Kd7,c4,Rha8,a4,b5,cxb5,Qc2,Qe1,Qxb3,Rdb1,Qc4,Rc1,Rxa4', 'Rxc4,Rxa1,Rc1,Rxc1,Qxc1', 'https://lichess.org/training/XtlN9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xtmh3', 'Classical', 'Zalkip123', 1912, 'ahad489', 1966, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,Nxc6,Bxe3,fxe3,Qxb2,Bc4,Qxa1,O-O,bxc6,Bxf7+,Kd8,Qh5,Nf6,Qg5,h6,Qxg7,Rh7', 'Qf8+,Ne8,Qxe8#', 'https://lichess.org/training/Xtmh3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XTmLT', 'Classical', 'fandrika', 1959, 'dvs4', 2055, 'e4,d6,d4,Nf6,Nc3,g6,Be2,c6,g4,b5,g5,b4,gxf6,bxc3,fxe7,Qxe7,Bd3,cxb2,Bxb2,Bg7,Ne2,O-O,Ng3,Na6,Qe2,Nb4,Ba3,Nxd3+,Qxd3,a5,O-O,Ba6,c4,Qe6,Rac1,Rfd8,Rfe1,c5,d5,Qe5,Rc2,Rdb8,Bc1,Bc8,f4,Qd4+,Qxd4,Bxd4+,Kg2,Rb1,h3,Rab8,Ree2,h5,Be3,Bxe3,Rxe3,R8b2,Ree2,Rxc2,Rxc2,Ba6,e5,dxe5,fxe5,Kf8,Nf1,Re1,Kf2,Rxe5,Ne3,f5,Kf3,g5,d6,Ke8,Nd5,Kd7,Nf6+,Kxd6,Nxh5,Re4,Rd2+,Ke5', 'Rd5+,Ke6,Ng7+,Ke7,Nxf5+,Kf8,Kxe4', 'https://lichess.org/training/XTmLT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XtNVU', 'Blitz', 'ioannispaulus', 1853, 'dinadina10', 1859, 'e4,d5,e5,c5,f4,Nc6,Nf3,f6,Bb5,Qb6,Bxc6+,Qxc6,O-O,Bg4,c4,dxc4,h3,Bh5,g4,Bg6,f5,Bf7,e6,Bxe6,fxe6,Qxe6,Re1,Qc6,Nc3,e5,d3,Bd6,dxc4,O-O-O,Nd5,Ne7,Nxe7+,Bxe7,Qe2,h5,Qe4,Qc7,Qf5+,Kb8,Be3,Qc6,gxh5,Qa4,b3,Qc6,Kf2,Qe8,Rg1,Rxh5,Qe6,Rd6,Qg4,Qh8,Qxg7,Qd8,Qf7,Rxh3,Rg7,e4,Qxe7,Rxf3+,Ke2,Rd2+,Bxd2', 'Qd3+,Kd1,Rf1#', 'https://lichess.org/training/XtNVU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xtPsd', 'Rapid', 'player1903', 1736, 'selfrighteous', 1811, 'e4,e5,Nf3,Nc6,Bc4,h6,b4,a6,c3,b5,Bd5,Bb7,Bxc6,Bxc6,Nxe5,Bxe4,Qe2,Bxg2,Nc6+,Be7,Nxd8,Rxd8,Rg1,Bc6,Rxg7,Nf6,d4,Ne4,f3,Ng5,Bxg5,hxg5,Rxg5,Bxf3,Qe3,Rxh2,Qxf3,Bxg5,Qg3', 'Bh4,Qxh4,Rxh4', 'https://lichess.org/training/xtPsd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XtqAn', 'Rapid', 'seisa', 1847, 'dortam888', 1897, 'd4,Nf6,c4,c5,e3,g6,Nf3,Bg7,Nc3,cxd4,exd4,d5,Be3,O-O,h3,Nc6,Be2,dxc4,O-O,Na5,Qa4,Bd7,Qb4,Rc8,d5,b6,Ne5,Nxd5', 'Nxd5,Bxe5,Nxe7+', 'https://lichess.org/training/XtqAn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XTSHF', 'Rapid', 'TammyTheBridgeTroll', 1709, 'arthurneto', 1613, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,h6,d3,d6,a3,Bg4,h3,Bh5,Re1,Nge7,Be3,b6,Bxc5,bxc5,Nbd2,Rb8,Qb1,O-O,Re3,Kh8,b3,Na5,Qb2,Nxc4,Nxc4,f5,exf5,Nxf5,Re4,Bxf3,gxf3,d5,Rxe5,dxc4,dxc4,Nh4,Rh5,Qf6', 'Qxf6,Rxf6,Rxh4', 'https://lichess.org/training/XTSHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xtsr9', 'Blitz', 'rzjan', 1740, 'Dieguin13', 2122, 'd4,d5,Bf4,c6,Nf3,Nf6,e3,Bf5,Nbd2,e6,c3,Be7,c4,Nbd7,cxd5,exd5,Rc1,O-O,Ne5,Nxe5,Bxe5,Ne4,Be2,Bb4,Rc2,Nxd2,Rxd2,Bxd2+,Qxd2,Be4,O-O,Qg5,Bg3,h5,h4,Qg6,Qd1,Qe6,Bxh5,Bg6,Bg4,Bf5,Bf3,Be4,Bg4,Bf5,Bf3,a6,a3,b5,Be5,Rfc8,Re1,a5,e4,dxe4,Bxe4,Bxe4,Rxe4,Qf5,Rf4,Qe6,Rf3,Re8,Qc2,Rad8,b4,axb4,axb4,Ra8,Qc5,Ra1+,Kh2,Qg4,Qxc6,Qxh4+,Rh3,Qe7,Rh8+,Kxh8', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/xtsr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XTtPO', 'Rapid', 'highlander151151', 1626, 'yurivitkin', 1767, 'Nc3,e6,e4,d6,Bc4,Nf6,d3,Nc6,Bg5,Be7,Bb5,O-O,Bxc6,bxc6,Nf3,e5,h3,h6,Bxf6,Bxf6,O-O,Be7,b4,f5,b5,cxb5,Nxb5,fxe4,dxe4,Ba6,a4,c6,Nc3,Bxf1,Qxf1,Rb8,Qa6,Qb6,Qc4+,Kh8,Qe6,Bg5,Qxd6,Qb2', 'Rb1,Qxc3,Rxb8,Rxb8,Qxb8+', 'https://lichess.org/training/XTtPO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xtu0e', 'Rapid', 'ifka44', 1953, 'pikutrex', 1868, 'd4,Nc6,c4,e6,a3,Nf6,Nc3,d5,e3,Be7,Nf3,Ne4,Nxe4,dxe4,Nd2,f5,Qh5+,g6,Qh3,Qd6,b4,Bf6,Bb2,Bd7,Be2,O-O-O,g3,g5,Qh6,Qe7,O-O,g4,h4,Bg7,Qf4,e5,dxe5,Nxe5,Rab1,Rhf8,Nb3,Ba4,Nd4,Ng6,Qg5,Bf6,Qh6,Bg7,Qg5,Qxg5,hxg5,h6,gxh6,Bxd4,Bxd4,Rf7,Kg2,Rh7,Rh1,Ne7,Bf6,Rd7,Bg7,Ng8,c5,Rd2,Bc4,Ne7,Be6+,Kb8,Bf6,Nd5,Bxf5', 'Nxe3+,Kg1,Nxf5', 'https://lichess.org/training/xtu0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XTUSW', 'Blitz', 'Vl_Smiyan_27', 1723, 'yoyoparker', 1781, 'd4,e6,c4,d6,Nc3,Ne7,Bf4,Nd7,e3,Ng6,Bg3,Be7,Nf3,O-O,Be2,f5,O-O,f4,exf4,Nxf4,Qd2,Nxe2+,Qxe2,Nf6,Rad1,Nh5,Rfe1,Nxg3,hxg3,Bd7,c5,Bf6,Ne4,d5,Nxf6+,Rxf6,Ne5,Bc8,b4,Qf8,b5,c6,a4,cxb5,axb5,a6,Ra1,a5,b6,Ra6,Ra2,Qe8,Rea1,a4,Qc2,Qb5,Rxa4,Rxa4,Qxa4,Qb2,Rf1,h6,Qe8+,Rf8,Qa4,h5,c6,bxc6,Nxc6,Bb7,Ne7+,Kh7,Qd7,Ba6,Qxe6,Bxf1', 'Qg6+,Kh8,Qxh5#', 'https://lichess.org/training/XTUSW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xtv9L', 'Blitz', 'FM legato', 2489, 'Hedgehog322', 2537, 'd4,d6,c4,e5,Nc3,exd4,Qxd4,Nc6,Qd2,Be6,b3,a5,Bb2,a4,Rd1,axb3,axb3,Nf6,g3,g6,Bg2,Bg7,Nh3,O-O,Nf4,Bd7,O-O,Re8,Ncd5,Nxd5,Bxg7', 'Nxf4,Qxf4,Kxg7', 'https://lichess.org/training/Xtv9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XtVBT', 'Rapid', 'adnooo61', 2195, 'Maria13', 2120, 'd4,Nf6,Nf3,d5,g3,e6,Bg2,Be7,O-O,O-O,b3,b6,Bb2,Bb7,Nbd2,c5,e3,Nc6,Ne5,Nd7,c4,cxd4,exd4,Bf6,f4,Ndxe5,dxe5,Be7,cxd5,exd5,Nf3,Bc5+,Kh1,Ne7,Nd4,Qd7,a3,Nf5,Qg4,Bxd4,Bxd4,Qe6,Qd1,Qh6,Bf2,Bc6,g4,Nh4', 'g5,Qe6,Bxh4', 'https://lichess.org/training/XtVBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XtVjj', 'Blitz', 'DgsErol', 1793, 'lucasMaciel74', 1782, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,c4,Nf6,Bd3,Be7,Bg5,O-O,O-O,h6,Bh4,d6,b3,Qc7,f3,a5,Bf2,Bb7,Nc3,d5,exd5,cxd5,Na4,e4,fxe4,dxe4,Bc2,Rfe8,Re1,Bb4,Re2,Ng4,Bg3,Qc6,Qd4,f5,Rf1,Rad8,Qa1,Bc5+,Nxc5,Qxc5+,Bf2,Nxf2,Rexf2,e3,Rxf5,Qb6,Kh1,e2,Re1,Qc6,Rf2,Rd2,Qc3,Qd6,Bb1,Rf8,Rxf8+,Qxf8,Qxd2', 'Qf1+,Rxf1,exf1=Q#', 'https://lichess.org/training/XtVjj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XTwNc', 'Classical', 'frdzhdytz45', 1959, 'ardalanat', 1834, 'e4,e5,Bc4,Nf6,Nf3,d5,exd5,Nxd5,Qe2,Be6,Bxd5,Bxd5,Qxe5+,Qe7,d4,Nc6,Qxe7+,Bxe7,Be3,Bxf3,gxf3,Nb4,Kd2,O-O-O,c3,Na6,b4,c6,Kc2,Rhe8,Nd2,h6,f4,Nc7,Rhg1,Bf6,Nc4,Nd5,Rae1,g6,Ne5,Re7,a3,Bh8,Ng4,h5,Ne5,Rde8,Nc4,Kc7,Rg3,b5,Ne5,Kb7,Nd3,Nf6,Nc5+,Ka8,h3,Nd5,Na6,Nxf4,Bxf4,Rxe1,Nc7+,Kb7,Nxe8,Rxe8,Re3,Rxe3,fxe3,Kc8,Kd3,Kd7,e4,Ke6,c4,a6,d5+,cxd5,cxd5+,Kd7,e5,f6,e6+,Ke7,Kd4,g5,Bh2,f5+,Kc5,f4,Kc6,Bb2,d6+', 'Kxe6,d7,Bf6', 'https://lichess.org/training/XTwNc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xU1HT', 'Classical', 'TOD_TheLast', 1708, 'airdean23', 1736, 'e4,d5,Nc3,Nf6,Nf3,dxe4,Ng5,Bg4,f3,exf3,gxf3,Bh5,Bc4,Qd4,d3,Nc6,Bd2,O-O-O,Qe2,Ne5,Nb5,Qh4+,Qf2,Qxf2+,Kxf2,Nxc4,dxc4,Kb8,Nxf7,Bxf7,Rae1,Bxc4,Nd4,Rxd4,Be3,Rd5,b3,Ba6,c4,Rf5,Rd1,Ne4+,Kg2,c6,fxe4,Re5', 'Bf4,Kc8,Bxe5', 'https://lichess.org/training/xU1HT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xu29w', 'Classical', 'quirite', 1908, 'ozgecanesen', 1879, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,dxc3,Qb3,Qf6,e5,Nxe5,Re1,d6,Qb5+,Bd7,Qxa5,Ne7,Nxe5,dxe5,Rxe5,O-O,Bg5,Nc6,Qxc3', 'Qxe5,Qxe5,Nxe5', 'https://lichess.org/training/Xu29w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xu2MC', 'Blitz', 'jociii', 1748, 'LEONARD007', 1933, 'd4,e6,Bf4,Bd6,Bxd6,cxd6,e3,d5,Nf3,Nf6,Nbd2,O-O,c4,dxc4,Bxc4,d5,Bb3,Nc6,Rc1,Qd6,a3,b6,h3,Bb7,Ba4,Rac8,Bxc6,Rxc6,O-O,Rxc1,Qxc1,Rc8,Qb1,Qc7,Ne5,Nd7,Ndf3,f6,Nxd7,Qxd7,Rc1,Rxc1+,Qxc1,Qc6,Qxc6,Bxc6,Kf1,Kf7,Ke2,Bb5+,Kd2,Bf1,g3,Bxh3,Kc3,Bg4,Nd2,e5,Nb3,Ke6,a4,Bd1,Kb4,Bxb3,Kxb3,exd4,exd4,g5,Kb4,f5,Kb5,h5,Ka6,h4,gxh4,gxh4,Kxa7,h3,Kxb6,h2,a5,h1=Q,a6,Qb1,a7,Qxb2+,Kc7,Qa3,Kb7,Qb4+,Kc7,Qa5+,Kb7,Qb4+,Kc7,Qxd4,a8=Q,Qxf2,Qc6+,Ke5,Qd6+,Ke4,Qe6+,Kd4', 'Qb6+,Kc3,Qxf2', 'https://lichess.org/training/xu2MC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xu33G', 'Blitz', 'ND33', 1535, 'hakim006', 1579, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,a6,Bxc6,dxc6,Nxe5,Bd6,Nf3,Bg4,h3,Bh5,d4,Bb4,e5,Ne4,Bd2,Bxf3,Qxf3,Nxc3,Bxc3,Bxc3+,Qxc3,O-O,O-O-O,f5,h4,f4,g3,b5,h5,b4,Qxc6,Qg5,Qf3,fxg3+,Qe3,Qxe3+,fxe3,g2,Rhg1,Rf2,Rd2,Raf8,Rxg2,Rf1+,Rd1,b3,axb3,R1f3,Re1,Kf7,c3,Ke6,Rxg7,c5,Rxh7,cxd4,exd4,Rb8,Ra7,Rxb3,Rxa6+,Kd5,Re2,Rf1+,Kc2,Rb7,Rh2,Rbf7,h6,Rh7,Rg6,Rf8,Rg7,Rhh8,h7,Ra8,Kb3,Ke4,Kb4,Kd5,Kb5', 'Rhb8+,Rb7,Rxb7#', 'https://lichess.org/training/xu33G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XU4V7', 'Rapid', 'JustKiddingLoL', 1770, 'sharvim', 1854, 'e4,Nf6,e5,Nd5,Nf3,e6,d4,Nc6,c4,Ndb4,a3,Na6,d5,Ne7,d6,Nf5,Bg5,f6,exf6,gxf6,Ne5,Bxd6', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/XU4V7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xu54g', 'Rapid', 'jores', 1907, 'me_unsolicited', 1868, 'e4,c5,d4,cxd4,c3,g6,Nf3,Bg7,e5,Nc6,Bc4,d5,exd6,Qxd6,O-O,e6,Be3,Nge7,Bxd4,Nxd4,Nxd4,O-O,Nd2,b6,N2f3,Bb7,Qe2,Rfd8,Rad1,Qf4,Nxe6,fxe6,Qxe6+,Kf8,Rxd8+,Rxd8,Re1,Qf6,Ng5,Qxg5', 'Qf7#', 'https://lichess.org/training/Xu54g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xu68r', 'Rapid', 'NaturalPunishment', 1706, 'seint', 1860, 'd4,d5,c4,Nf6,Nc3,Bf5,e3,e6,Nf3,Bb4,Bd3,Bg4,cxd5,Nxd5,Bd2,Bxc3,Bxc3,Nxc3,bxc3,O-O,O-O,Nc6,Rb1,b6,Qc2,Bxf3,gxf3,g6,Rfd1,Ne7,e4,f5,Qb3,Qd7,Bc4,Qe8,Bxe6+,Kg7,d5,Rd8,Qc4,c5,d6,Nc6,d7,Qe7,Qd5,Nb8,Qe5+,Rf6,exf5,gxf5,Rd6', 'Nxd7,Rxd7,Rxd7', 'https://lichess.org/training/Xu68r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xU6Bs', 'Rapid', 'Hyper_Beam', 1848, 'musaintaya', 1841, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,b6,d4,Bb7,c4,Qh5,Be2,Qg6,O-O,Nd7,Re1,e6,Bd3,Qh5,d5,Bb4,Bd2,Bxd2,Qxd2,O-O,Re4,exd5', 'Rh4,Qxh4,Nxh4', 'https://lichess.org/training/xU6Bs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xu7Lu', 'Classical', 'Trimy', 1639, 'andrewhoward1977', 1580, 'e4,e5,Qf3,Nf6,Bc4,Bc5,Nh3,h6,Ng1,Nc6,c3,d6,h3,O-O,b4,Bb6,Be2,Be6,d3,Ne7,Qg3,g5,Bxg5,hxg5,Qxg5+,Kh8,Qxf6+,Kh7,Qh4+,Kg7,Nf3,Ng6,Qg3,Kh8,Ng5,Bd7,Bh5,Qf6,f3,Be3,Bxg6,Qxg6,h4,Rg8,Nd2,b5,O-O-O,f6,Rde1,Bf4,Qf2,fxg5,g3,Bxd2+,Qxd2,Raf8', 'hxg5+,Kg7,Rh6,Qxh6,gxh6+', 'https://lichess.org/training/xu7Lu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XU8HD', 'Blitz', 'seregikk', 1758, 'AwIDoK', 1765, 'd4,Nf6,c4,g6,Nc3,Bg7,f3,O-O,g4,h6,h4,d5,g5,Nh7,gxh6,Bh8,c5,Nc6,Bf4,Bxd4,e3,Bxc5,Qxd5,Qxd5,Nxd5,e5,Bg5,Nxg5,hxg5,Be6,Nxc7,Rac8,Nxe6,fxe6,Kf2,Rcd8,Bh3,Rd2+,Ne2,Rfd8,Bxe6+,Kh7,Rab1,R8d3,Bc4,Rxe3,Kg3,a6,Rhd1,Rexe2,Bxe2,Rxe2,Rd7+,Kh8,Rxb7,Re3,Rd1,e4,Rdd7,Rxf3+,Kg2,Rf2+,Kh1,Rf1+,Kh2,Rf2+,Kg3,Rf3+,Kh4', 'Bf2+,Kg4,Ne5#', 'https://lichess.org/training/XU8HD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XuAKz', 'Bullet', 'pyatkovsky', 1861, 'Dzhaer', 2310, 'e4,g6,f4,Bg7,d4,c5,Nf3,cxd4,Nxd4,Nc6,Nb3,Qb6,Nc3,Nh6,h3,O-O,Qf3,Nd4,Nxd4,Qxd4,Be3,Qb4,O-O-O,Bxc3,bxc3,Qa3+,Kd2,d6,g4,Be6,g5,Nf5,exf5,Bxf5,Qd5,Rac8,Qb3,Qa5,h4,Bg4,Rb1,Rc7,Qb4', 'Qd5+,Bd3,Qg2+,Bf2,Qxf2+', 'https://lichess.org/training/XuAKz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUarE', 'Blitz', 'ksamuel', 1587, 'Sakrod', 1592, 'd4,Nf6,c4,g6,Bf4,Bg7,Be5,d6,Bxf6,Bxf6,e4,e5,d5,Nd7,Nf3,Nc5,Nfd2,Bd7,Nc3,c6,b4,Na6,b5,Nc5,bxc6,bxc6,Rb1,Qa5,Qc2,O-O,Be2,Rab8,Rxb8,Rxb8,O-O,cxd5,cxd5,Na4,Nxa4,Bxa4,Qc1,Bg5,Qe1,Bxd2,Qa1,Bc3,Qc1,Rb2,Bg4,Rxa2,Qg5,Ra1,h4,Rxf1+,Kxf1,Be1,h5,Qb5+,Kg1,Bxf2+,Kxf2,Qb2+,Kg3,Qc3+,Kh2,Qc7,hxg6,fxg6,Qf6,Qg7', 'Be6+,Kh8,Qd8+,Be8,Qxe8+,Qf8,Qxf8#', 'https://lichess.org/training/XUarE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUAuy', 'Blitz', 'Savitskiy_S', 2380, 'IM Monkey_King', 2450, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Qe7,Qe2,Nd5,c4,Ba6,b3,f6,Qe4,Nb6,Bb2,O-O-O,c5,Bxf1,cxb6,Ba6,bxa7,Qb4+,Nd2,Qxe4+,Nxe4,Bb4+,Kd1,Kb7,exf6,Rhe8,f3,d5,Nc3,Bxc3,Bxc3,d4,Bb4,gxf6,Re1,Rxe1+,Kxe1,Re8+,Kf2,Re2+,Kg3,Rc2,a3,c5,Ba5,Be2,Kf4,Kxa7,Bxc7,Kb7,Ba5,Kc6,h4,h5,g4,hxg4,fxg4,d3,Ke3,Bxg4,Kxd3,Rh2,Bc3,Rh3+,Kc2,Bf5+,Kb2', 'Rh2+,Kc1,Rc2+,Kd1,Rxc3', 'https://lichess.org/training/XUAuy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xUB5G', 'Rapid', 'nikito1115975', 1651, 'Mohammed929211', 1624, 'e4,c5,e5,Nc6,Nf3,d6,Bb5,a6,Bxc6+,bxc6,exd6,exd6,d3,d5,O-O,Bd6,Re1+,Ne7,Bg5,f6,Bh4,O-O,a3,a5,c3,Nf5,Nbd2,Nxh4,Nxh4,Ra7,b4,axb4,cxb4,cxb4,a4,Ba6,d4,Re8,Qg4,Bc8,Rxe8+,Qxe8,Nf5,Qd7,Nh6+,Kh8,Nf7+,Qxf7,Qxc8+,Qf8,Qxc6,Rc7,Qxd5,Rd7,Qb5,Qe7,a5,Rb7,Qc4,h6,a6,Ra7,Qc8+,Kh7,Qf5+,g6,Qg4,h5,Qf3,Qd8,Ne4,Be7,h3,Qxd4,Rd1,Qb6,Ng3,Qxa6,Qe4,b3,Nxh5,f5,Qf3,gxh5,Qxb3,h4,Qf7+,Kh6,Qxf5,Qb6,Qf4+,Bg5,Qf8+,Kh5,Qh8+,Qh6,Qe8+,Qg6,Qe2+,Kh6,Qg4,Re7,g3,Re4,Qf3,hxg3,fxg3,Re3,Qf8+,Qg7,Rd6+,Kh7,Qf5+,Kh8,Rg6,Rxg3+,Kf2,Qc7', 'Qf8+,Kh7,Qg8#', 'https://lichess.org/training/xUB5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUc7I', 'Rapid', 'RenatoVasquez_ESAN', 1718, 'CesarGutierrez_PUCP', 1903, 'e4,c5,Nf3,Nc6,Bc4,e6,Bb5,a6,Ba4,b5,Bb3,c4,Bxc4,bxc4,Qe2,Bb7,Qxc4,Rc8,Qe2,Nb4,Qd1,Nxc2+,Ke2,Nxa1,Nc3,Nf6,d3,Bb4,Bg5,h6,Bd2,d5,Qxa1,dxe4,dxe4,Bxc3,bxc3,Nxe4,Rd1,Qf6,Qb2,O-O,Qxb7,Nxc3+,Bxc3,Rxc3,Kf1,Rd8,Rb1,Qf5,Re1,Qd3+,Kg1,Rc1,Qb4,Rc4,Qa5,Rcc8,h3,Qb5,Qa3,Rd3,Qe7,Qd5,Re5,Qxa2,Qb7,Rcd8,Re4,Rd1+,Kh2,Qxf2,Rf4,R8d7,Qc8+,Kh7', 'Ng5+,hxg5,Rxf2', 'https://lichess.org/training/XUc7I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUcgD', 'Rapid', 'SERGEI1961', 1748, 'ismailmera1983', 1785, 'e4,e5,Bc4,Nc6,a3,Bc5,d3,d6,h3,Nf6,Nf3,h6,Nc3,a6,O-O,Be6,Ba2,O-O,Be3,Ba7,Bxa7,Rxa7,Nh2,Nh7,f4,exf4,Rxf4,Qg5,Qf3,Ne5,Qf2,Raa8,Nd5,c6,Nc7,Bxa2,Nxa8,Rxa8,Rxa2,Nf6,Ra1,Nh5,Rf5,Qg6,d4,Nd7,g4,Nhf6,Re1,Re8,c3,Rxe4,Rxe4,Nxe4,Qe3,Ndf6,Nf3', 'Nxg4,Qxe4,Nf6+,Qg4,Nxg4', 'https://lichess.org/training/XUcgD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xUChP', 'Rapid', 'Julioafp', 1537, 'tuba-girya', 1527, 'c4,c5,Nc3,e5,Ne4,f5,Ng3,d5,cxd5,Qxd5,f3,f4,Ne4,Bf5,d3,Nc6,g4,fxg3,hxg3,O-O-O,g4,Bg6,Bh3,Kb8,Kf2,Be7,Kg2,h5,g5,Bxe4,fxe4,Qd4,Nf3,Qd6,b3,Nd4,Nxd4,Qxd4,Bd2,g6,Rc1,b6,Bc3,Qe3,Bxe5+,Kb7,Bxh8,Qxg5+,Kh2,Bd6+,e5,Bxe5+,Bxe5,Qxe5+,Kg2,Nf6,Qf1,Qg5+,Kf2,Rf8,Bg2+,Ka6,Bf3,h4,Qh3,Nd5,Rhg1', 'Qe3+,Kg2,Nf4+,Kh2,Nxh3', 'https://lichess.org/training/xUChP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xuDyN', 'Classical', 'JC1965', 1948, 'Chess4Practice', 2000, 'e4,c5,c3,d5,e5,Nc6,d4,Bf5,Bb5,a6,Bxc6+,bxc6,f3,e6,Ne2,f6,exf6,Nxf6,O-O,Bd6,Bf4,O-O,Bxd6,Qxd6,Nd2,e5,dxe5,Qxe5,Ng3,Bg6,Nb3,Qd6,c4,d4,Nd2,Rfe8,b3,Re3,Qc1,Rae8,Qb2,h5,Rad1,h4,Nh1,h3,g3,Re2,Nf2,Nh5,Nde4,R8xe4,Nxe4,Rxb2,Nxd6,Rxa2,Ra1,Rb2,Rxa6,Rxb3,Rxc6,d3,Rxc5,d2,Rd5,Bd3,Ne4,Bxf1,Kxf1,Rb1+,Ke2,Rh1,Rxd2,Rxh2+,Kf1', 'Nxg3+,Nxg3,Rxd2', 'https://lichess.org/training/xuDyN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUdZF', 'Rapid', 'chesspiritu', 1831, 'WestFighter', 1857, 'd4,d5,c4,c6,e3,Bf5,cxd5,cxd5,Bd3,Bg6,Nc3,e6,Nf3,Nc6,Ne5,Nxe5,dxe5,Bb4', 'Qa4+,Kf8,Qxb4+', 'https://lichess.org/training/XUdZF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xuef2', 'Rapid', 'wrangler73', 1624, 'vexch', 1769, 'g3,d5,Bg2,e5,d3,Be6,a3,c5,Bd2,Nc6,Nc3,d4,Bxc6+,bxc6,Ne4,f5,Ng5,Bd5,e4,dxe3,Bxe3,Bxh1,Ne6,Qd5', 'Nc7+,Kf7,Nxd5', 'https://lichess.org/training/Xuef2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xufC7', 'Blitz', 'winronaldo', 1771, 'afrrs', 1738, 'e4,c5,Nc3,d6,Nge2,Bd7,Nf4,Nc6,Bc4,a6,O-O,h6', 'Bxf7+,Kxf7,Qh5+,g6,Qxg6#', 'https://lichess.org/training/xufC7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XuffC', 'Rapid', 'va1ente', 1901, 'Volleyball19091', 2002, 'e4,c5,Nf3,Nc6,c3,g6,d4,cxd4,cxd4,e6,Nc3,Bg7,Be2,Nge7,O-O,d5,Be3,dxe4,Nxe4,O-O,Rc1,Nd5,Qa4,Nxe3,fxe3,Qe7,Bb5,Bd7,Nc5,a6,Nxd7', 'axb5,Qxb5,Qxd7', 'https://lichess.org/training/XuffC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUgZ9', 'Rapid', 'drr-S', 1795, 'Stackz', 1823, 'e4,e5,Nf3,d6,Bc4,Nc6,d3,Bg4,h3,Bh5,g4,Bg6,h4,f6,g5,fxg5,Bxg5,Be7,Qe2,Bh5,Nbd2,Nd4,O-O-O,h6,Bxe7,Nxe7,Qe3,Rf8,Nxd4,Bxd1,Ne6,Qd7,Nxf8,Kxf8,Rxd1,Qg4,h5,Qxh5,f4,Ke8,fxe5,dxe5,Qc5,Rc8,Qb5+,c6,Qxb7,Qg5,Qxa7,h5,Ba6,Rd8,Kb1,h4,Nf3,Qg4,Rf1,Qg2,d4,h3,Nxe5,h2,Nxc6,Qxf1+,Bxf1,Nxc6,Qxg7,h1=Q,Qg6+,Kd7,Qf7+,Kc8,a3,Qxe4', 'Ba6+,Kb8,Qb7#', 'https://lichess.org/training/XUgZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xUhAe', 'Blitz', 'thiagosecreto', 1921, 'serega_ust', 1925, 'e4,c5,c3,e6,d4,a6,Nf3,b5,d5,Nf6,dxe6,fxe6,Ne5,Be7,Be2,O-O,O-O,Qc7,f4,Nxe4,Bd3,Bb7,Nd2,Nxd2,Bxd2,c4,Bc2,d6,Qh5,h6,Ng6,Rf6,f5,e5,Bxh6,gxh6,Qxh6,Nd7,Qh8+,Kf7', 'Qh7+,Ke8,Qxe7#', 'https://lichess.org/training/xUhAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xuHBM', 'Blitz', 'Hasseman', 1718, 'willem_hansen', 1763, 'e4,c5,Nf3,Nc6,Nc3,Nf6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bg5,Be7,Qf3,Bb7,Bc4,O-O,O-O-O,h6,Bd2,d5,exd5,cxd5,Bb3,d4,Qxb7,dxc3,Bxc3,Qe8,Bxe5,Bc5,Bxf6,gxf6,Rhe1,Qb8,Qf3,Qb6,Re4,Bxf2,Rg4+,Kh7,Qf5+,Kh8,Qh5,Qe3+,Kb1,Rad8,Rc1', 'Qxc1+,Kxc1,Be3+,Kb1,Rd1#', 'https://lichess.org/training/xuHBM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xuHqs', 'Classical', 'Macquarz', 1852, 'yousef156', 1849, 'c4,g6,Nc3,Bg7,d3,c5,g3,Nc6,Bg2,d6,Nf3,Bd7,e4,a6,a4,Rb8,O-O,Nh6,Bxh6,Bxh6,Rb1,O-O,b3,Bg7,Qd2,h6,h4,Qa5,Nd5,Qd8,Nh2,e6,Nc3,Qf6,Na2,Nd4,Ng4,Nf3+,Bxf3,Qxf3,Nxh6+,Bxh6,Qxh6,Qxd3,Rfe1,Bc6,Qe3,Bxe4', 'Qxe4,Qxe4,Rxe4', 'https://lichess.org/training/xuHqs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xuib3', 'Classical', 'BenATCq', 1718, 'javierponce', 1680, 'd4,e5,dxe5,Nc6,Nf3,Nge7,Bg5,h6,Bh4,b6,Nc3,Bb7,e4,g5,Bg3,Ng6,Qe2,h5,h3,a5,O-O-O,Qe7,Nd5,Qd8,Nf6+,Ke7,Rxd7+,Qxd7,Nxd7,Kxd7,Nxg5,Bh6,h4,Rae8,Kb1,Ncxe5,Bxe5,Nxe5,Qd2+,Kc8,Bb5,Re7,f3,f6,Rd1,fxg5,hxg5,Bg7,f4,Nf7,Bd7+,Kb8,Bf5,Rd8,Qe2,Rxd1+,Qxd1,Nd6,Qxh5,Nxf5,a3,Bxe4,g4,Ne3,f5,Bxc2+,Ka2,Be5,f6,Rd7', 'Qe8+,Kb7,Qxd7', 'https://lichess.org/training/xuib3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xUiPk', 'Rapid', 'bullo1969', 1917, 'goran_milosevic', 2103, 'Nf3,c5,c4,b6,Nc3,Bb7,d4,cxd4,Nxd4,e6,f3,Qh4+,g3,Qf6,e4,Bc5,Ndb5,a6,Nc7+,Kd8,Nxa8,Bxa8,Bg2,Ne7,Qe2,Nbc6,Be3,Nd4,Qd2', 'Nxf3+,Bxf3,Qxf3,Rf1,Qxe3+,Qxe3,Bxe3', 'https://lichess.org/training/xUiPk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xUk7X', 'Rapid', 'stanchokolichev67', 2091, 'Paawa', 2109, 'e4,c6,Nf3,d5,exd5,cxd5,Ne5,f6,Bb5+,Bd7,Nxd7,Nxd7,Qg4,a6,Bxd7+,Qxd7,Qxd7+,Kxd7,O-O,e5,c3,Bd6,d3,Ne7,Be3,Nf5,Nd2,h5,d4,e4,Rae1,Ne7,f3,f5,fxe4,fxe4,Rf7,g6,Ref1,Kc6,c4,Nf5,cxd5+,Kxd5,R7xf5+,gxf5,Rxf5+,Ke6,Rg5,Be7,Re5+,Kd6', 'Nc4+,Kd7,Nb6+', 'https://lichess.org/training/xUk7X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xUKWW', 'Rapid', 'pekinek', 1922, 'Makz92', 1908, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nf3,Nc6,Be2,Qd7,O-O,O-O-O,Nc3,h5,a4,h4,a5,a6,h3,Bxh3,gxh3,Qxh3,Ng5,Qf5,Nxf7', 'Qg6+,Kh1,Qxf7', 'https://lichess.org/training/xUKWW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUlNL', 'Blitz', 'Agento007', 1611, 'ANDREABELENY', 1676, 'e4,e5,Nf3,Nf6,d3,d6,Nc3,Be7,Be2,h6,Be3,Bd7,Qd2,Nc6,a3,a6,h3,Nh7,Nd5,Bg5,Nxg5,Nxg5,f4,exf4,Bxf4,Be6,Bxg5,hxg5,O-O,f6,d4,Bxd5,exd5,Ne7,Bc4,Qd7,b4,O-O-O,a4,Kb8,b5,a5,Qxa5,b6,Qd2,g4,a5,gxh3,axb6,cxb6,Ra6,hxg2,Rfa1,Rh1+,Kxg2,Qh3+,Kf2,Rh2+,Ke1,Rxd2', 'Ra8+,Kc7,R1a7#', 'https://lichess.org/training/XUlNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUMTU', 'Classical', 'PETROS9N', 1999, 'TogiroIkonoka', 2015, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,Bf4,dxc4,e4,Nxe4,Nxe4,Bxe4,Bxc4,Qa5+,Bd2,Qf5,O-O,Bxf3,gxf3,e6,Qb3,b6,Rae1,Be7,d5,cxd5,Bb5+,Nd7,Qa4,Rd8,Qxa7,Qxf3,Qxb6,O-O,Bxd7,Rxd7,Qe3,Qg4+,Kh1,Bd6,Rg1,Qh4,f4,Rc8,Bc3,Bxf4,Rxg7+,Kf8,Qg1,Rxc3,Rg8+,Ke7,bxc3,Bxh2,Qg5+,Qxg5,Rxg5,Bf4,Rg7,Bd2,Rf1,Bxc3', 'Rfxf7+,Kd6,Rxd7+', 'https://lichess.org/training/XUMTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xupbr', 'Blitz', 'Amilcarock', 1608, 'zirbto', 1955, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,O-O,d6,h3,O-O,a3,Be6,b4,Bb6,Nc3,a5,Nd5,Nxd5,exd5,Bxd5,c4,Be6,bxa5,Rxa5,Bd2,Ra8,Ng5,Nd4,Nxe6,fxe6,Ba4,Qf6,Be3,Qg6,Bxd4,Bxd4,Ra2,Rf3,Qxf3,Rxa4,Rb1,b6,Rb4,Ra7,a4,h6,a5,bxa5,Rb8+,Kh7,Rb7,Rxb7,Qxb7,Qxd3,Rxa5,Qxc4,Qb1+,Kg8,Ra8+,Kf7,Rc8,Bb6', 'Qxb6,Qc1+,Kh2,Qf4+,g3', 'https://lichess.org/training/Xupbr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xuqd0', 'Rapid', 'mamed110', 1919, 'Corcaigh1916', 1915, 'e4,d5,exd5,Nf6,Nc3,e6,dxe6,Bxe6,Nf3,Bb4,Bb5+,Nbd7,O-O,Qe7,Re1,O-O-O,a3,Bd6,d4,Qf8,b4,Bg4,Ne4,Nxe4,Rxe4,f5,Re3,f4,Rb3,g5,c4,c6,Ba4,Nb6,Rc3,Nxa4,Qxa4,Kb8,Ne1,f3,g3,Rg8,b5,c5,Be3,b6,Nd3,h5,dxc5,Bxc5,Bxc5,bxc5,Ne5,Ka8,b6,Rg7,Rb1,Rb7,Qc6,Rc8,Qd5,Rd8,Qc6,Rc8,Qa4,Qd6,Nxg4,hxg4,Re3,Qg6,Reb3,Rh8,bxa7', 'Qxb1+,Rxb1,Rxb1+,Qd1,Rxd1#', 'https://lichess.org/training/Xuqd0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xuR1z', 'Rapid', 'CarlsMag1005', 1778, 'geralbcol', 1888, 'd4,d5,c4,dxc4,e4,e5,d5,Nf6,Nc3,Bc5,Bxc4,Ng4,Nh3,Qf6,O-O,Nh6,Bg5,Qg6,Qa4+,c6,dxc6,bxc6,Qa5,Bxh3', 'Qd8#', 'https://lichess.org/training/xuR1z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xurbD', 'Rapid', 'C-J-M', 1844, 'u_teu', 1825, 'e4,e6,d4,d5,exd5,Qxd5,Nf3,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Ne4,Qd3,Nxc3,Qxc3,Nc6,Bc4,Qe4+,Be2,Bd7,O-O-O,O-O-O,Bd3,Qg4,Rhg1,f6,h3,Qh5,a3,Rhe8,Nd2,e5,dxe5,Rxe5,Nc4,Rc5,Qb3,Nd4,Qc3,Nb5,Qb4,a6,Bxh7,b6,Bd3,Bf5,g4,Bxd3,gxh5,Rxc4,Qe7', 'Rxc2+,Kb1,Re2+,Rxd3,Rxe7,Rxd8+,Kxd8', 'https://lichess.org/training/xurbD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xURGF', 'Rapid', 'len17031959', 1976, 'stanley1809', 1951, 'e4,c6,d4,d5,e5,Bf5,Nc3,Nd7,g4,Bg6,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Be3,Be7,O-O-O,Bg5,Nh3,Qe7,f4,Bh4,f5,O-O-O,Rdf1,Nb6,Ng1,Bg5,Nf3,Nc4,Nxg5,hxg5,b3', 'Qa3+,Kd1,Nb2+,Ke2,Nxd3', 'https://lichess.org/training/xURGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xURpJ', 'Rapid', 'Iwin10', 2232, 'onlyprogress', 2236, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,Nf6,dxe5,Ng4,Bf4,d6,Qb3,O-O,e6,Na5,exf7+,Kh8,Qa4,c6,Bd3,Rxf7,Bg3,Qb6,O-O,Be6,Nbd2,Qc5,Rac1,b6,Nb3,Nxb3,axb3,Raf8,h3,Rxf3,gxf3,Rxf3,Qd4,Qh5,Be2,Bf6,hxg4,Rxg3+,fxg3,Bxd4+,cxd4,Qe8,Rf4,a5,Rcf1,Kg8,Bc4,Bxc4,bxc4,a4,e5,dxe5,dxe5,h6,Re4,Qe6,Rd1,Qg6,Rde1,Qe6,Rd1,Qg6,Rde1,Kf7,Kg2,Ke7,Kf3,Qf7+,Ke3,b5,Rd1,bxc4,Rb1,Ke6,Rd1,Qa7+,Kf3,a3,Rd6+,Ke7,Rg6,Kf7,e6+,Kxg6', 'e7,a2,e8=Q+,Qf7+,Qxf7+,Kxf7,Re1', 'https://lichess.org/training/xURpJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xuryp', 'Blitz', 'DonkeyDoug', 2471, 'FM FlinkerFreddy', 2376, 'e4,c5,Nc3,Nc6,Nf3,e6,Bb5,Nge7,O-O,Ng6,Bxc6,bxc6,e5,Be7,Ne4,O-O,b3,Qc7,Bb2,Rb8,c4,a5,d3,a4,Nfd2,f6,exf6,gxf6,Qh5,d5,Nc3,axb3,axb3,Nf4,Qf3,Rf7,Na4,Rg7,g3,Nh3+,Kh1,e5,cxd5,cxd5,Qxd5+,Kh8,Ne4,Bb7,Qe6,Ng5,Qc4,f5,f4,fxe4,fxg5,exd3+,Kg1,Qc6,Kf2,Bxg5,Ke1,Qg2,Qxd3,Rd8', 'Qxd8+,Bxd8,Rf8+,Rg8,Bxe5+,Bf6,Bxf6#', 'https://lichess.org/training/Xuryp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUSEf', 'Bullet', 'AlexanderGavrilenko', 1681, 'muenet', 1674, 'e4,g6,d4,Bg7,Be3,d6,Be2,b6,Nc3,Bb7,f3,c5,d5,Nf6,Qd2,O-O,Bh6,Nbd7,O-O-O,a6,Bxg7,Kxg7,g4,b5,h4,b4,Na4,Qa5,b3,Nb6,h5,Rh8,hxg6,hxg6,Nh3,Nxa4,bxa4,Qxa4,Bc4,a5,g5,Nh5,Nf4,Ba6,Bb3,Qa3+,Kb1,c4,Nxh5+,gxh5,Qd4+,Kg6,f4,c3,f5+,Kh7', 'Rxh5+,Kg8,Rxh8#', 'https://lichess.org/training/XUSEf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUSio', 'Rapid', 'donmono13', 1608, 'kifer24', 1622, 'e4,Nc6,Nc3,Nf6,Nf3,e5,d4,Bb4,Qd3,O-O,Bd2,exd4,Nxd4,Re8,f3,d5,Nxc6,bxc6,O-O-O,dxe4,Qxd8,Rxd8,Nxe4,Bxd2+,Rxd2,Rxd2,Nxd2,Be6,Ba6,Rb8,b3,h6,h4,Nd5,g4,Nc3,Kb2,Nb5,Ne4,Rb6,Bxb5,cxb5,g5,h5,f4,g6,Nf6+,Kg7,Ne4', 'Bd5,Re1,Re6', 'https://lichess.org/training/XUSio');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XuuMt', 'Blitz', 'Kunalchess4', 1977, 'mehran1354', 2178, 'd4,Nf6,e3,d5,Bd3,Bg4,f3,Bh5,g4,Bg6,f4,Bxd3,cxd3,Qd7,h3,Nc6,g5,Ng8,Nc3,h6,Nf3,hxg5,Nxg5,f6,Nf3,Rxh3,Rxh3,Qxh3,Nxd5,Qh1+,Kd2,Qxd1+,Kxd1,O-O-O,f5,Rxd5,e4,Rd8,d5,Ne5,Nd4,Nxd3,Ne6,Re8,Bd2,Nh6,Ke2,Ne5,Rc1,c6,b4,Kd7,b5,cxd5', 'Rc7+,Kd6,Bb4#', 'https://lichess.org/training/XuuMt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xUUNt', 'Blitz', 'McDeil', 1927, 'javadkoohpayma', 1882, 'd4,d5,Nf3,Nf6,g3,Nc6,Bg2,Bg4,O-O,e6,c4,Be7,Ne5,h6,cxd5,exd5,Nc3,Nxe5,dxe5,Nh7,Qa4+,Bd7,Qb3,Bc6,Nxd5,O-O,Rd1,Qe8,Nxc7,Qc8,Nxa8,Qxa8,Bxc6,bxc6,Be3,c5,Rac1,Rc8,Rd7,Kf8,Bxc5,Rxc5,Rxc5,Ng5,Rxe7', 'Nh3+,Kf1,Qh1#', 'https://lichess.org/training/xUUNt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xuuWG', 'Rapid', 'Paul_AM_Dirac', 1778, 'boberkrasikov', 1874, 'Nf3,e6,e4,d5,e5,Ne7,g3,c5,d3,Nbc6,Bg2,Nf5,O-O,d4,Nbd2,Be7,Re1,O-O,h4,b5,Nf1,Rb8,N1h2,Bb7,Ng5,h6,Ngf3,Nb4,a3,Nd5,Ng4,h5,Ngh2,g5,Nxg5,Bxg5,Bxg5,f6,exf6,Nxf6,Rxe6,Bxg2,Kxg2', 'Qd5+,Re4,Nxe4', 'https://lichess.org/training/xuuWG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XuUYh', 'Blitz', 'hhc8', 1738, 'Raspolosatiybaibak', 1697, 'e4,e6,d4,d6,c4,b6,Nc3,g6,Bd3,Bg7,Nge2,Bb7,O-O,Ne7,f4,O-O,f5,exf5,exf5,Nd7,Bg5,Re8,f6,Nxf6,Bxf6,Bxf6,Rxf6,Nf5,Rxf5,gxf5,Bxf5,Qg5,Ng3,Re3,Bc2,Rae8,Qh5', 'Re1+,Rxe1,Rxe1+,Kf2,Qe3#', 'https://lichess.org/training/XuUYh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xUvdh', 'Rapid', 'giorgi777', 1608, 'Drive77', 1703, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,h3,Nf6,d3,h6,Be3,b6,c4,Bb7,Nc3,O-O,Qd2,Nh7,Bxh6,Qf6,Be3,Be7,d4,exd4,Bxd4,Qg6,Ne5,Qg5,Qe2,Rad8,Nf3,Qg6,e5,Bc8,e6,Bxe6,Ne5,Qg5,Ne4,Qh4,Nxc6,Rxd4,Nxd4,Bxc4,Qxc4,Qxe4,Rfe1,Qh4,Qxc7,Bc5,Re2,Qxd4,Rae1,Nf6,a3,a5,Qe5,Qxe5,Rxe5,Bd4,R5e2,Rc8,Rd1,Bc5,g3,Rc6,Kg2,Kh7,Rb1,Kg6,b4,axb4,axb4,Bd4,b5,Rd6,Rd1,Bc5,Rxd6,Bxd6,Kf3,Bc5,Kf4,Nd5+,Ke5,Nc3,Rb2,Nd1,Rc2,f6+,Ke6,Nxf2', 'Rxc5,bxc5,b6', 'https://lichess.org/training/xUvdh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUwj1', 'Rapid', 'casillas1994', 2194, 'jrrd1986', 2205, 'Nf3,g6,d4,Bg7,g3,Nf6,Bg2,O-O,O-O,d5,Nbd2,c5,c3,cxd4,Nxd4,Nc6,N2b3,e5,Nxc6,bxc6,Be3,Be6,Nc5,Qa5,b4,Qa3,Qc2,Bf5,Qb3,Qxb3,axb3,Rfb8,Ra6,Rb6,Rfa1,Rxa6,Rxa6,Nd7,Rxc6,Nxc5,Bxc5,Be6,e3,a5,b5,a4,bxa4,Rxa4,Bxd5', 'Ra1+,Kg2,Bxd5+', 'https://lichess.org/training/XUwj1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xuWjr', 'Blitz', 'a1392', 1984, 'alexisolsh', 2139, 'e4,e6,d4,b6,Bd3,Bb7,Nf3,Nf6,Qe2,d5,e5,Nfd7,Bg5,Qc8,O-O,c5,c3,c4,Bc2,Nc6,Nh4,g6,Qf3,b5,Qf4,Bg7,Bh6,O-O,Bxg7,Kxg7,Nf3,a5,Nbd2,b4,Ng5,a4,Qh4,h6,Ngf3,b3,axb3,axb3,Rxa8,Qxa8,Bb1,Qd8,Qg4,Nb6,Nh4,Qg5,Qh3,Qxd2,Nxg6,fxg6,Qxe6,Qg5,h4,Qf4', 'Qxg6+,Kh8,Qh7#', 'https://lichess.org/training/xuWjr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUySs', 'Classical', 'keks12345', 1648, 'rotaryconnection', 1908, 'e4,c5,c4,g6,Nf3,Bg7,d3,d6,Nc3,Nc6,Qa4,Bd7,Be2,e6,Be3,Nge7,O-O,Nd4,Qd1,Nec6,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/XUySs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XUZlI', 'Blitz', 'FaridFirmansyah', 2441, 'Anti_Remis', 2376, 'Nf3,c5,c4,Nc6,Nc3,Nf6,e3,e6,d4,cxd4,exd4,d5,c5,Be7,Bb5,Bd7,Qe2,O-O,O-O,b6,Bxc6,Bxc6,Ne5,Rc8,b4,bxc5,bxc5,Nd7,Bf4,Bf6,Nxc6,Rxc6,Nb5,Qa5,Rfd1,Nxc5,Bd6,Rxd6,Nxd6,Na4,Qd3,Nc3,Re1,Qb4,a3,Qxd4,Qxd4,Bxd4,Rac1,g6,Kf1,Rd8,Nb7,Rb8,Na5,Rb2,Nc6,Rxf2+,Kg1,Ne2+,Rxe2,Rxe2+,Nxd4,Ra2,Rc8+,Kg7,Rc7,e5,Nb5,d4,Rxa7,d3,Rd7,e4,Kf1,Kf6,Nc3,Ra1+,Kf2,Ke5,Re7+,Kd4,Nxe4,Rxa3,Nd2,Ra2,Ke1,f5,Rd7+,Ke3,Re7+,Kf4,g3+,Kg4,Re3,Ra1+,Kf2,Ra3,Nf3,Kh5,Ne5', 'd2,Rxa3,d1=Q', 'https://lichess.org/training/XUZlI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xV0RO', 'Rapid', 'Dumboldt', 1775, 'kpatric', 1760, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,h6,d4,exd4,cxd4,Bg4,h3,Bh5,g4,Bg6,Bb5,Bxe4,O-O,Nf6,Re1,d5,Ne5,Qd6,Nxc6,bxc6,Bd3,Be7,Bf1,O-O,f3,Qg3+,Bg2,Bxb1,Rxe7,Rfe8,Rxe8+,Rxe8,Bd2,Bd3,Be1,Rxe1+,Qxe1,Qf4,Qe5,Qd2,Re1,Qxb2,Bf1,Bg6,Qxc7,Qxd4+,Kg2,Qc3,Re7,d4,Qc8+,Kh7,Rxa7,d3,Ra8,Qb2+,Kh1,Be4,Qh8+,Kg6,fxe4,Nxe4,Bxd3', 'Qc1+,Kg2,Qd2+', 'https://lichess.org/training/xV0RO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xv3X3', 'Rapid', 'BCD84', 1870, 'tncy89', 2108, 'd4,c5,d5,d6,c4,g6,Nc3,Bg7,e4,Nf6,Bd3,O-O,Nge2,Re8,f4,e6,O-O,exd5,cxd5,a6,a4,Bg4,h3,Bxe2,Qxe2,Nbd7,Bd2,Nb6,Qf3,Nbd7,Rae1,Rc8,Re2,c4,Bb1,Qe7,Rfe1,Nc5,e5,dxe5,fxe5,Nfd7,e6,fxe6,dxe6,Nb6,a5,Nba4,Nxa4,Nxa4,Bc3,Nxc3,bxc3,Qc5+,Kh1,Qxa5,Qxb7,Rc7,Qf3,Qxc3,Qd5,Qd4,Qa5,Qc5,Qxa6', 'Ra7,Qxa7,Qxa7', 'https://lichess.org/training/Xv3X3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xv47k', 'Blitz', 'Macciavelli78', 1659, 'miquelb', 1707, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,c4,c6,dxc6,Nxc6,Nc3,Bc5,d4,Qe7+,Be2,Bd6,O-O,O-O,Re1,a6,Bd3,Qc7,b3,Bg4,Bc2,Rad8,Qd3,Bxf3,gxf3,Nxd4,Nd5,Nxf3+,Kh1,Ne5,Rxe5,Bxe5', 'Nxf6+,Kh8,Qxh7#', 'https://lichess.org/training/Xv47k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xV63S', 'Rapid', 'samuelov', 1756, 'mario-panagiotis', 1783, 'd4,d5,Nf3,Nc6,g3,Bg4,Bg2,e6,O-O,f6,c4,Bxf3,Bxf3,Nge7,Nc3,g6,Qb3,Nxd4,Qxb7,Nxf3+,exf3,Qb8,Qxb8+,Rxb8,cxd5,Nxd5,Nxd5,exd5,b3,c6,Be3,a6,Rfc1,Kd7,f4,f5,Bd4,Rg8,Rc2,Rc8,Rac1,Ba3,Re1,c5,Bf6,Rge8,Rxe8,Kxe8,Re2+,Kf7,Bg5,Re8,Rd2,d4,Kg2,Bb4,Rc2,Bc3,h4,a5,h5,Re6,hxg6+,hxg6,Kf3,Re1,g4,Ke6,gxf5+,gxf5,Re2+,Rxe2,Kxe2,Kd5,Kd3,Be1,f3,Bc3,a3,Bb2,a4,Ba3,Bd8,Bb4,Be7,Ke6,Bf8', 'c4+,bxc4,Bxf8', 'https://lichess.org/training/xV63S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xv80X', 'Bullet', 'CM d7d6', 1882, 'Nenormas', 1845, 'Nf3,c5,d3,e6,e4,Nc6,c3,Nf6,Nbd2,d5,Qc2,Be7,Be2,O-O,O-O,a6,a3,Bd7,b4,cxb4,axb4,b5,Bb2,Qb6,d4,dxe4,Nxe4,Nxe4,Qxe4,Rfd8,Ne5,Nxe5,Qxe5,Bd6,Qh5,g6,Qh3,e5,Qh4,exd4,cxd4,Qc7,Bf3,Rac8,Rac1,Qb8,d5,Be5,Bxe5,Qxe5,Rfe1,Rxc1', 'Qxd8+,Kg7,Rxc1', 'https://lichess.org/training/xv80X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XV9eD', 'Blitz', 'GM Bakayoyo', 2721, 'kirlianitalian', 2563, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,a6,a4,Bf5,Qb3,Ra7,a5,dxc4,Qxc4,e6,Nh4,Bg6,Nxg6,hxg6,e4,Nbd7,Be3,Ra8,Be2,Be7,O-O,e5,Rfd1,exd4,Bxd4,Qb8,g3,Ne5,Qb3,g5,Kg2,g4,Be3,O-O,Rh1,Ned7,h3,Bc5,Bxc5,Nxc5,Qc4,Qe5,Bxg4,Ncxe4,Rhe1,Rfe8,Nxe4,Nxe4,Bf3,Qc5', 'Rxe4,Qxc4,Rxc4', 'https://lichess.org/training/XV9eD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVADW', 'Blitz', 'FM VLABOR64B', 2277, 'ALBERT-WESKER', 2320, 'd4,d5,c4,dxc4,Nf3,Nf6,e3,e6,Bxc4,a6,O-O,c5,Qe2,b5,Bd3,Bb7,Rd1,Qc7,Nc3,Nc6,dxc5,Bxc5,e4,Ng4,h3,Nd4,Nxd4', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/xVADW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVC2M', 'Rapid', 'Sinemyil', 1898, 'mohammad_sadegh', 1917, 'e4,e5,Nf3,Bc5,Nc3,Nc6,d3,Nf6,Bg5,h6,Bh4,d6,Be2,g5,Bg3,h5,h4,g4,Ng5,Nd4,O-O,Nh7,Nxh7,Rxh7,Nd5,c6,Ne3,Qb6,c3,Nxe2+,Qxe2,Bxe3,fxe3,Be6,a4,a6,a5,Qb5,c4,Qb4,Be1,Qc5,b4,Qa7,Bf2,O-O-O,d4,f6,Rac1,Rg8,g3,Rf7,d5,Bd7,c5,Qb8,cxd6,Qxd6,dxc6,Bxc6,Rfd1,Qxb4,Rxc6+,bxc6,Qxa6+,Qb7,Qc4,Rd8,Rc1,Rc7,a6,Qa7,Qe6+,Kb8,Rb1+,Ka8,Qxf6,Rcc8,Qxe5,Qxa6', 'Ra1,Qxa1+,Qxa1+', 'https://lichess.org/training/xVC2M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVclJ', 'Rapid', 'kalapes', 1701, 'TinyKey', 1769, 'e4,d5,Qf3,dxe4,Qxe4,Nf6,Qf3,Nc6,c3,e5,Bb5,Bd7,Bxc6,Bxc6,Qg3,Qd6,Nf3,Nh5,Qxe5+,Qxe5+,Nxe5,Bxg2,Rg1,Nf4,d4,f6,Bxf4,fxe5,Rxg2,exf4,Nd2,Bd6,Rxg7,O-O-O,O-O-O,Rde8,Nf3,h6,c4,Re2,Rd2,Rhe8,c5,Bf8,Rf7,Rxd2,Nxd2,b6,cxb6,axb6,Rxf4,h5,Rh4,Re2,Rxh5,Rxf2,Rh8,Kd7,h4,Bg7,Rh7,Rf7,d5', 'Bxb2+,Kxb2,Rxh7', 'https://lichess.org/training/XVclJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XvcqM', 'Blitz', 'NM Janou', 2274, 'Nedzmetdinov', 2377, 'b3,e5,Bb2,d6,e3,c6,d4,exd4,exd4,d5,Be2,Nf6,Nf3,Bd6,Nbd2,O-O,Ne5,Nbd7,Ndf3,Re8,O-O,Nxe5', 'dxe5,Be7,exf6', 'https://lichess.org/training/XvcqM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xvcxz', 'Rapid', 'Radiy68', 1704, 'Egor_Serbin2011', 1825, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,g6,Nc3,Bg7,Be3,O-O,Qd2,Re8,O-O-O,Nc6,h4,Nxd4,Bxd4,Be6,Kb1,a6,Bxf6,Bxf6,Nd5,Bxd5,exd5,Qb6,c3,a5,g4,Rec8,Rc1,a4,a3,Qa5,f4,Qxd5,h5,g5', 'Bxh7+,Kxh7,Qxd5', 'https://lichess.org/training/Xvcxz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVIkQ', 'Rapid', 'Maximilian_I', 1617, 'zaragan', 1613, 'e4,e6,d3,c6,Nh3,Nf6,Bg5,d5,Bxf6,Qxf6,exd5,Qxb2,Nd2,Bb4,Rb1,Qe5+,Be2,Bxd2+,Qxd2,Qxd5,Nf4,Qxa2,Rd1,O-O,Qc3,Nd7', 'Ra1,Qxa1+,Qxa1', 'https://lichess.org/training/XVIkQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVJgx', 'Rapid', 'Leucippo', 1852, 'Lars420', 1800, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bf4,e5,Nf5,Bxf5,exf5,exf4,Bc4,Be7,O-O,O-O,Re1,Nc6,Qf3,Ne5,Qe2,Nxc4,Qxc4,Rc8,Qxf4,Re8,Re2,Qb6,Rae1,Kf8,g4,h6,g5,hxg5,Qxg5,Ng8,Qh5,Rc5,Na4,Qa7,Nxc5,Qxc5,Qh7,Qd4,c3,Qg4+,Kf1,Rc8,Re4,Qf3,R1e3,Qh1+,Ke2,Bg5,Rg4,Bxe3,Qxg7+,Ke7,fxe3,Qxh2+,Kd3,Qe5', 'Re4,Qxe4+,Kxe4', 'https://lichess.org/training/xVJgx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVkB5', 'Classical', 'amirazhar', 1951, 'Vandaad', 1943, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Be3,O-O,Qd2,Nc6,O-O-O,Re8,h4,Bf6,Bd3,Ne5,Ng5,Nxd3+,Qxd3,g6,Qd5,Qd7,h5,Re5,Qd2,Qf5,f4,Bxg5,fxg5,Be6,hxg6,fxg6,Rdf1,Qe4,Bd4,Rf5,Rxf5,Qxf5,g4,Qf3,Qh2,Kf8,Qxh7,Qf7,Qh8+,Qg8,Rf1+,Ke7,Qf6+,Kd7,Rf4,Qh7,b4,Bxa2,Kb2,Be6,Be3,a5,b5,a4,Ka3,Qh8,Rxa4,Rxa4+,Kxa4,Qa8+,Kb4,Qa2,Qg7+,Kc8,Qf8+,Kd7,Qg7+,Kd8,Bd4,Qb2+,Ka4,Qxc2+,Ka5,Qa2+,Kb4,Qb3+,Ka5,b6+,Ka6,Qa4+,Kb7', 'Bd5+,Kb8,Qa8#', 'https://lichess.org/training/xVkB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVkVi', 'Rapid', 'arion11', 1946, 'zlhory', 1979, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,b6,Bd3,Bb7,Nbd2,Nbd7,O-O,c5,c3,Be7,Rc1,Rc8,b3,O-O,Qe2,h6,h3,Nh5,Bh2,f5,Ne5,Nxe5,Bxe5,Nf6,Rfe1,Bd6,Bxf6,Qxf6,f4,g5,fxg5,Qxg5,Nf3,Qg7,Qf2,c4,Bc2,Bg3,Qe2,Bxe1,Rxe1,cxb3,Bxb3,Rxc3,Ne5,Rfc8,Qh5,Rc1,Rxc1,Rxc1+,Kh2,Rc8,g3,Ba6,Ng6,Bc4,Bxc4,Rxc4,Ne5,Rc2+,Kh1,Rc1+,Kg2,Rc2+,Kf3,Rxa2,Qe8+,Kh7,Qxe6,b5,Nd7,Ra1', 'Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/XVkVi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVLSs', 'Rapid', 'brolard', 1706, 'Payam-Hamid', 1673, 'e4,c5,f4,Nc6,Bb5,a6,Bxc6,bxc6,Nf3,d5,e5,e6,O-O,f6,d3,Qc7,Be3,Be7,Bf2,Nh6,Qe2,Ng4,h3,Nxf2,Rxf2,O-O,b3,Bd7,d4,cxd4,Nxd4,Bc5,c3,fxe5,Qxe5,Qxe5,fxe5,Rxf2,Kxf2,Rf8+,Kg3,Bxd4,cxd4,Rc8,Nd2,c5,Nf3,cxd4,Nxd4,Rc3+,Kf4,Rd3,Nf3,Rc3,b4,Rc2,Kg3,Bc6,Nd4,Rc4,Nxe6,Rxb4,Rd1,Rb2,Nc7,Rxa2,Nxd5,Ra3+,Kf4,Be8,Nc7,Ra4+,Ke3,Bc6,Rd6,Bxg2,e6,Re4+,Kf2,Bxh3,Nxa6,Kf8,Nc7,Ke7,Rd7+,Kf8,Rd6,Bxe6,Nxe6+,Ke7,Ng5,Rf4+,Kg3,Rf5,Kg4', 'Rxg5+,Kxg5,Kxd6', 'https://lichess.org/training/xVLSs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVLVM', 'Bullet', 'igor75bgd', 1588, 'Tilemacho', 1596, 'e4,c6,d4,d5,e5,Bf5,Nc3,h6,h3,e6,Nf3,Nd7,Bf4,c5,Bb5,a6,Bxd7+,Qxd7,Qd2,c4,g4,Bg6,h4,b5,h5,Bh7,g5,hxg5,Nxg5,Be7,O-O-O,Nh6,Nxh7,Rxh7,Kb1,O-O-O,Rdg1,Nf5,h6,Rdh8,hxg7,Rxh1,gxh8=Q+,Rxh8,Ne2,Nh4,Qe3,Nf5,Qf3,b4,Bg5,Rg8,Bxe7,Rxg1+,Nxg1,Qxe7,Ne2,Qh4,a3,Nxd4,Nxd4,Qxd4,Qxf7', 'Qd1+,Ka2,b3+,cxb3,cxb3#', 'https://lichess.org/training/xVLVM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVlWq', 'Rapid', 'bata_Joco', 1621, 'katalan5', 1972, 'c4,Nf6,Nc3,e6,Nf3,d5,b3,c6,d3,Nbd7,d4,Bb4,Bd2,O-O,g3,Re8,cxd5,exd5,Bg2,Qa5,Qc2,Qc7,O-O,Bd6,Bg5,h6,Bd2,Nf8,Nh4,Ne6,Qd3,Ng5,Bxg5,hxg5,Nf3,Ne4,e3,Bf5,Nxg5,Nxg3,e4,dxe4,Ncxe4,Bxe4,Nxe4,Nxf1,Nxd6,Qxd6,Rxf1,Rad8,Rd1,Re6,h3,Rg6,Kf1,Qh2,Qf3,Rf6,Qh5,Rd5,Qh4,Rdf5,f3,Rxf3+,Bxf3,Rxf3+,Ke1,Qg1+,Kd2,Qe3+,Kc2,Rf2+,Kb1,f6,Qg4,Qc3,Qe6+,Kh7,Qe4+,g6', 'Qh4+,Kg7,Qxf2', 'https://lichess.org/training/xVlWq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xvLZx', 'Classical', 'db158', 1674, 'Slarduck', 1725, 'e4,e5,d4,exd4,c3,Nf6,e5,Qe7,Nf3,d6,cxd4,Nc6,Bb5,Bd7,O-O,dxe5,Re1,e4,Bxc6,Bxc6,Ne5,Bd5,Nc3,Qe6,Bg5,Be7,Bxf6,Bxf6,Nxe4,Bxe5,dxe5,O-O,Ng5,Qf5,Qxd5,Qxg5,Qxb7,Rfb8,Qxc7,Rxb2,Rab1,Qd2,Red1', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/xvLZx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XvMfg', 'Rapid', 'cobraabro', 2106, 'Allenator', 2103, 'e4,c5,Nc3,d6,g3,Nc6,Bg2,e5,d3,Nf6,Nh3,h6,O-O,Be7,Nd5,O-O,f4,Bg4', 'Nxf6+,Bxf6,Qxg4', 'https://lichess.org/training/XvMfg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xvMmc', 'Rapid', 'sergisarde', 1848, 'elminahadov', 1859, 'd4,d5,c4,Nf6,Nf3,e6,e3,c5,cxd5,exd5,Bd2,Nc6,Nc3,cxd4,Nxd4,Nxd4,exd4,Be6,Be2,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/xvMmc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVMQ6', 'Classical', 'Ygrek1969', 1632, 'andras960', 1689, 'e4,e6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Nc6,Nc3,Nxe5,Bf4,Bd6,Ncb5,Nd3+,Bxd3,Bxf4,Qg4,Bh6,Qg3,Nf6,Nd6+,Ke7,O-O,Qxd6,Qf3,a6,Rae1,Re8', 'Nf5+,Kd7,Nxd6', 'https://lichess.org/training/xVMQ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVmWO', 'Rapid', 'anujjoshi', 1841, 'taylakali', 1841, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,a6,Nf3,Nd7,O-O,b5,d4,Bb7,d5,Qg6,Bd3,Qb6,Be3,c5,a4,Ngf6,axb5,axb5,Rxa8+,Bxa8,Qa1,Qb7,Nxb5,Nxd5,Be4,e6,c4,N7f6,Bg5,Qe7,Bxf6,Qxf6,cxd5,Bxd5,Bxd5,exd5,Qa8+,Qd8,Re1+,Be7,Nd6+,Kd7,Qxd8+,Kxd8,Nxf7+,Kd7,Nxh8,c4,Nf7,Bb4,N7e5+,Kd6,Rc1,Kc5,b3,c3,Nd3+,Kb5,Nxb4,Kxb4,Ne5,Kxb3,f4,Kb2,Nd3+,Kb3,g4,d4,f5,c2,h4,Kc3,g5,Kxd3,g6', 'hxg6,f6,gxf6', 'https://lichess.org/training/XVmWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XvmwX', 'Classical', 'jchessdevelopers', 1840, 'CivilBeast', 1878, 'c4,e6,Nc3,d5,cxd5,exd5,d4,Bd6,Nf3,Nf6,Bg5,c6,e4,h6,Bxf6,gxf6,exd5,Bf5,dxc6,Nxc6,Be2,Qb6,Bb5,O-O-O,O-O,Nxd4,Qxd4', 'Bxh2+,Kxh2,Rxd4', 'https://lichess.org/training/XvmwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVn3E', 'Rapid', 'zavator', 1948, 'Rontastic', 1944, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,h3,c6,Nf3,e6,e5,Be7,Bd3,O-O,O-O,c5,a3,cxd4,Nxd4,Kh8,Nf3,Nc6,Nc3,a6,Ne4,f6,Nd6,fxe5,Nxc8,Rxc8,Be3,Nd5,Rc1,Nf6,Ng5,h6,Nxe6,Qe8,Nxf8,Qxf8,Bg6,Nh7,Qd3,Rd8,Qe4,Nf6,Qf3,Nd4,Bxd4,exd4,Qxb7,Nd5,Qxa6,Bd6,Rcd1,Qf6,Qd3,Nf4,Qf3,Qxg6,Kh1,Bb8,Rfe1,Qd6,Re4,d3,g3,Nxh3,Qg2,Ng5,Re3,Qg6,Qf1,Qh5+,Kg1,Nh3+,Kg2,Ng5,Rexd3,Rf8,Rd8', 'Qh3+,Kg1,Nf3#', 'https://lichess.org/training/xVn3E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xvnMG', 'Blitz', 'leroufeed', 1672, 'ProdigyX108', 1656, 'e4,e5,Bc4,Nc6,d4,Nxd4,f4,Qh4+,g3,Qf6,f5,b5,Bb3,a5,a3,Nxb3,cxb3,Bb7,Qd3,Bc6,Nc3,Rb8,Nf3,Bc5,Bg5,Qd6,Qxd6,cxd6,O-O-O,Nh6,Bxh6,gxh6,Nh4,Be3+,Kb1,Ke7,f6+,Kxf6,Rxd6+,Ke7,Nf5+,Kf8,Nxh6,Bxh6,Rxh6,b4,axb4,axb4,Nd5,Bxd5,exd5,Ke7,d6+,Kf8,Rf6,Kg7,Rhf1,Rhf8,R6f5,f6,Rc1,Rb6,Rd1,Re8,Rf3,e4,Rf4,Re6,Re1,Rbxd6,Rfxe4,Rxe4,Rxe4,Rb6,Re7+,Kg6,Rxd7,Re6,Kc1,Re2,Rd2,Rxd2', 'Kxd2,Kf5,Kd3,Kg4,Kc4,Kh3,Kxb4', 'https://lichess.org/training/xvnMG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVnwx', 'Rapid', 'pripandrei', 1603, 'panscrub5', 1620, 'c4,e5,e4,c6,Nf3,d5,Qc2,Nf6,Bd3,Bd6,a3,O-O,b4,b6,O-O,d4,c5,bxc5,bxc5,Be7,Nxe5,Nbd7,Nxc6,Qe8,Nxd4,Bxc5,Nb5,Bb6,a4,Ng4,Bc4,Qe5,g3,Qxa1', 'Bb2,Qxb2,Qxb2', 'https://lichess.org/training/XVnwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVo5K', 'Rapid', 'daniel921126', 1720, 'Mehdi0936', 1755, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nb5,a6,Be3,Qd8,N1c3,axb5,Nd5,e6', 'Bb6,Qh4,Nc7+', 'https://lichess.org/training/xVo5K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xvq2H', 'Rapid', 'Le_Sofia', 1505, 'Artyom_Shabanov', 1810, 'e4,e5,Qe2,Nc6,Nf3,Nf6,d3,d6,d4,Nxd4,Qc4,Nxf3+,gxf3,Be6,Qd3,Be7,Bg5,O-O,Bxf6,Bxf6,Nd2,a6,O-O-O,Bxa2,Rg1,Be6,f4,exf4,e5,Bxe5,Qe4,c6,Bd3,g6,Nf3,Bf5,Qc4,d5,Qc5,Bd6,Qd4,Be5,Nxe5,Bxd3,cxd3,Qa5,Nd7,Rfd8,b4,Qa3+,Kd2,Rxd7', 'Ra1,Qb3,Rgb1,Qxb1,Rxb1', 'https://lichess.org/training/Xvq2H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVQ61', 'Rapid', 'm123p123', 1720, 'shlifo', 1662, 'c4,f5,Nc3,e6,d3,Nf6,g3,Be7,Bg2,O-O,Nf3,c6,O-O,d5,cxd5,exd5,e3,Nbd7,d4,Ne4,a3,Ndf6,Ne2,Be6,Nf4,Bf7,Ne5,Nd7,Nxf7,Rxf7,Bd2,Bd6,Nd3,Qg5,b4,b6,Rc1,Rc8,Rc2,h5,h4,Qg6,Qc1,Bxg3,fxg3,Nxg3,Nf4,Qg4,Rf2,Qxh4,Bh3,Nf6,Rg2,Nfe4,Be1,g5,Bxg3,Nxg3,Rxg3,Qxg3+,Rg2,Qf3,Qe1,Kh7,Rg3,Qe4,Bg2,Qc2,Kh2,gxf4,Rg5,Rf6,Rxh5+,Rh6,Rxh6+,Kxh6,Qh4+,Kg6,Qxf4,Rd8,Qg3+,Kf6', 'Qh4+,Ke6,Qxd8', 'https://lichess.org/training/XVQ61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XvSFv', 'Rapid', 'noblebear', 1990, 'Lirikalanamadin', 1930, 'd4,d5,c4,dxc4,e4,b5,a4,c6,axb5,cxb5,Nf3,Nf6,Nc3,e6,e5,Nd5,Nxb5,Bb4+,Bd2,Bxd2+,Nxd2,O-O,Nxc4,Na6,Nbd6,Nab4,Be2,a5,O-O,Ba6,Re1,Bxc4,Bxc4,f6,Rc1,fxe5,dxe5,Qb6,Rf1,a4,Qg4,Rfe8,Nxe8,Rxe8,Ra1,Qc6,Rfc1,Rc8,h3,h5,Qe4,Qd7,Bxd5,Rxc1+,Rxc1,Nxd5,Rc4,Qb7,Rb4', 'Qxb4,Qxb4,Nxb4', 'https://lichess.org/training/XvSFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVuAJ', 'Rapid', 'Renk52', 1553, 'BI190020_FSKTM', 1534, 'e4,e6,d4,g6,c4,b6,Nc3,Bb7,a3,a6,Nf3,f5,e5,h6,Be2,g5,h3,f4,Bd3,Ne7,Qc2,Rg8,O-O,d6,Qe2,Nd7,b4,Ng6,Qc2,Ne7,Bh7,Rg7,Bd3,dxe5,Nxe5,Nxe5,dxe5,Qd7,Bb2,O-O-O,Be4,Nc6,Rad1,Qe8,b5,axb5,cxb5,Rxd1,Rxd1,Nxe5,Bxb7+,Kxb7,Qe4+,Kb8,Qxe5,Rf7,Re1,Bd6,Qxe6', 'Re7,Qxe7,Bxe7,Nd5,Qxb5', 'https://lichess.org/training/XVuAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XvUg9', 'Rapid', 'anatolii50', 1845, 'promatti', 1755, 'e4,c5,Nf3,d6,c3,Nf6,e5,Ng4,d4,cxd4,cxd4,dxe5,h3,Nf6,Nxe5,e6,Bb5+,Bd7,Nxd7,Nbxd7,Bg5,a6,Ba4,Bb4+,Nc3,Bxc3+,bxc3,Qa5,Qc2,Ne4', 'Bxd7+,Kxd7,Qxe4', 'https://lichess.org/training/XvUg9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xvugD', 'Rapid', 'champio', 1934, 'iDrStrange', 1856, 'f4,d5,Nf3,Nc6,e3,e5,fxe5,Bg4,Bb5,Qe7,Bxc6+,bxc6,O-O,Bxf3,Rxf3,Qxe5,Qf1,Nf6,Nc3,Bd6,g3,O-O,b3,d4,exd4,Qxd4+,Kh1,Ne4,Rd3', 'Nf2+,Kg2,Nxd3', 'https://lichess.org/training/xvugD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xvv2O', 'Rapid', 'Happy0', 1734, 'luvi91', 1741, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,Be3,d5,exd5,Nxd5,Bxd5,Qxd5,Nc3,Qd8,Qe2,Bg4,h3,Bh5,g4,Bg6,O-O-O,f6,Rde1,b5,Nh4,Bf7,Nxb5,Rb8,Nc3,Bb4,Nf5,O-O,Rhg1,Bxc3,bxc3,Bxa2,g5,Qd7,Qg4,fxg5', 'Nh6+,gxh6,Qxd7', 'https://lichess.org/training/xvv2O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVvM1', 'Rapid', 'Chessburger64', 1958, 'karenharut', 1913, 'e4,d5,e5,Bf5,f4,e6,d4,c5,Bb5+,Nd7,Bxd7+,Qxd7,Nf3,O-O-O,c3,h6,Be3,cxd4,Nxd4,Be4,O-O,Kb8,Nd2,Bh7,a3,f6,exf6,gxf6,Qg4,f5,Qh4,Be7,Qf2,Nf6,Rfe1,Ng4,Qe2,Nxe3,Qxe3,Bg8', 'Qe5+,Bd6,Qxh8', 'https://lichess.org/training/XVvM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVVqA', 'Rapid', 'PUIG-98', 2060, 'jina68', 1841, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,d6,c3,Bg4,O-O,Be7,Nbd2,O-O,Re1,Re8,Nf1,Na5,Bc2,Bf8,h3,Bh5,Ng3,Bg6,Nh4,d5,Qe2,dxe4,dxe4,Nc4,Nhf5,Nd6,Bg5,h6,Be3,Nfxe4,Nxe4,Bxf5', 'Nxd6,Bxc2,Nxe8', 'https://lichess.org/training/XVVqA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVwAA', 'Bullet', 'param092', 1615, 'seanvd42', 1635, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nf6,Nf3,e6,Bc4,Bb4,Qe2,O-O,O-O,a6,Bg5,b5,Bb3,Be7,e5,Ne8,Bxe7,Qxe7,Rfd1,Bb7,Rac1,d6,exd6,Nxd6,Ne5,Qg5,f3,Rc8,Rc2,Nf5,Ne4,Rxc2,Bxc2,Qe7,Qd3,Nc6,Nxc6,Bxc6,g4,Nh4,Ng3,Nxf3+,Kf2,Nxh2', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/XVwAA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xvwad', 'Rapid', 'voldemar86', 1764, 'ciccio1974', 1765, 'e4,g6,d4,Bg7,f4,Nc6,e5,e6,Nf3,h6,Nc3,b6,Ne4,Nge7,a3,Bb7,Bd3,Nf5,c3,O-O,g4,Nfe7,g5,h5,Nf6+,Kh8,Nh4,Bxf6,gxf6,Nf5,Nxf5,exf5,Rg1,d6,Be2,dxe5,fxe5,Qd5,Bd3,Rae8,Bxf5,Nd8,Rxg6,Qh1+,Kd2,Qxd1+,Kxd1,fxg6,Bxg6,Re6,Bh6,Rg8,f7,Nxf7,Bxf7,Rg1+,Kc2,Be4+,Kb3,Rxa1,Bxe6,a5,Bg5,c6,c4,Rg1,h4,Rg3+,Ka4', 'Bc2+,b3,Bxb3#', 'https://lichess.org/training/Xvwad');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVxAY', 'Rapid', 'unclebob2000', 1769, 'lustacapulco', 1632, 'e4,e5,Bc4,d6,d3,Be7,h3,Nf6,c3,O-O,Nf3,Be6,Bb5,c6,Ba4,b5,Bc2,d5,exd5,Qxd5,O-O,Nbd7,Re1,Rae8,Nbd2,c5,Bb3,Qc6,Nxe5,Nxe5,Rxe5,Bd6,Re1,Nd5,Nf3,Bf4,d4,c4,Bc2,Bxc1,Rxc1,Nf6,Ne5,Qb7,a3,Bd5,f3,Nh5,Qe2,Ng3,Qf2,Nh5,Qh4,g6,Qg5', 'f6,Qh4,fxe5', 'https://lichess.org/training/xVxAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xvXl6', 'Rapid', 'aloni90', 1688, 'KIDCrusher', 2134, 'e4,c5,Nf3,d6,Nc3,f6,Bc4,e6,O-O,Nc6,d3,Nge7,Be3,d5,exd5,exd5,Bb5,d4,Bxd4,cxd4,Ne2,a6,Ba4,Nf5,h3,Bc5,a3,O-O,Nf4,Qd6,Nh5,Be6,Re1,Bd5,b4,Ba7,b5,axb5,Bxb5,Rae8,Rxe8,Rxe8,Qd2,Bxf3,gxf3,Bb8,f4,g6,Ng3,Nh4,Kf1,Qd5', 'Bc4,Qxc4,dxc4', 'https://lichess.org/training/xvXl6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVXVo', 'Rapid', 'KuzenkovRoman', 1764, 'Mstfa27', 1872, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Nc3,O-O,Bd3,c6,O-O,Bg4,h3,Bh5,Be2,h6,Bh4,Re8,Re1,Nbd7,a3,a6,b4,Ne4,Nxe4,Bxh4,Nxh4,Bxe2,Rxe2,Qxh4,Ng3,Nf6,c3,Ne4,Nxe4,dxe4,Qc2,Re7,Rae1,Rae8,Qd2,b5,Re3,f5,Kh2,f4,R3e2,e3,fxe3,Qg3+,Kh1,fxe3,Qd3,Re4,c4,Qf4,cxb5,Rxd4,Qc3,cxb5,Rxe3,Rxe3,Rxe3,Qf1+,Kh2,Rd1,Re7', 'Qf4+,Qg3,Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/XVXVo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xvyQr', 'Rapid', 'juanchi10', 2015, 'Alequis1991', 1989, 'c4,e5,Nc3,Nf6,g3,Be7,Bg2,O-O,Nf3,d6,O-O,c6,d4,Nbd7,e4,Qc7,Be3,Ng4,Qd2,Nxe3,Qxe3,h6,Rac1,f5,dxe5,dxe5,exf5,Rxf5,Bh3,Bc5,Qe2,Rf8,Ne4,Bd4,Nxd4,exd4,Rcd1,d3,Be6+,Kh8,Qe3,Ne5,Bxc8,Raxc8,f4,Ng4,Qxd3,Rcd8,Qf3,Rxd1,Rxd1,Ne5,Qc3,Nd7,Qd4,Rd8,Nc5,Qb6,Nxd7', 'Rxd7,Qxb6,Rxd1+,Kf2,axb6', 'https://lichess.org/training/xvyQr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xVz4c', 'Rapid', 'Dionisii1', 1996, 'bilelxy', 2011, 'd4,e6,c4,Ne7,e4,Ng6,Nc3,d6,Bd3,c6,Nf3,Nh4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/xVz4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XvZBn', 'Rapid', 'lebed225', 1931, 'Thinkergame', 1886, 'b4,e5,Bb2,d6,a3,Bg4,f3,Bh5,e4,Nf6,Ne2,Nbd7,Ng3,a6,Be2,d5,exd5,Bg6,Bc4,Bd6,O-O,h5,Bd3,e4,Nxe4,Bxe4,fxe4,Bxh2+,Kxh2,Ng4+,Kg3,Qg5,Rf5,Qg6,Kf3,Nge5+,Bxe5', 'Qg4+,Kf2,Qxd1', 'https://lichess.org/training/XvZBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVzbv', 'Rapid', 'ajberke', 1636, 'Muaddibi', 1564, 'd4,d5,Bf4,e6,e3,Nc6,Nf3,h6,c3,Bd6,Bg3,Bxg3,hxg3,Nf6,Bd3,O-O,Nbd2,a5,Ne5,Qd6,f4,Ne4,Nxe4,dxe4,Bxe4,f6,Nxc6,bxc6,g4,Bb7,g5,f5,Bd3,c5,gxh6,Bxg2,Rg1,cxd4,cxd4,Qb4+,Qd2,Qxd2+,Kxd2,Bd5,Rxg7+,Kh8,Re1,Rg8,Reg1,Rxg7,hxg7+,Kg8,Bb5,c6,Ba4,Ra7,Bc2,Rxg7,Rxg7+,Kxg7,a3,Kh6,b4,axb4,axb4,Kh5,Kc3,Kg4,Bb3,Bxb3,Kxb3,Kf3,Kc4,Kxe3,Kc5,Kxf4,Kxc6,Ke4', 'b5,f4,b6,f3,b7', 'https://lichess.org/training/XVzbv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XVzq6', 'Rapid', 'antracis', 2036, 'Ngugi2020', 2030, 'Nf3,d5,d4,c5,g3,Nf6,Bg2,Nc6,c4,dxc4,Qa4,Qa5+,Qxa5,Nxa5,dxc5,e6,Bd2,Nc6,Na3,Bxc5,Nxc4,O-O,O-O,a6,Rac1,Ba7,Bg5,Nd5,e4,Ndb4,a3,Nd3,Rc2,f6,Be3,Bxe3,Nxe3,Nde5,Rd1,b5,Rd6,Bb7,Rxe6', 'Nxf3+,Bxf3,Nd4', 'https://lichess.org/training/XVzq6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xw10p', 'Rapid', 'pndreax', 1688, 'Zaydal', 1770, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,d3,c5,Bd2,Nf6,b4,b6,bxc5,bxc5,O-O,d5,exd5,Nxd5,Re1+,Be6,Qf3,Be7,Na3,O-O,Nb5,a6,Na3,Nc3,Bxc3,dxc3,Bxe6,fxe6,Qe4,c4,Nxc4,Rf6,Qe5,Qf8,Re2,Re8,Qxc3,Bc5,Qe1,Bd4,Rb1,Qc5,Kh1,Bxf2,Rxf2,Rxf2,Rb6,Ref8,Qxe6+,Kh8,h3,Rf1+,Kh2,h5,Rc6,Qg1+,Kg3,h4+,Kxh4,R1f4+,g4,Qf2+,Kh5,Qg3,Qe7,Qxh3+,Qh4,Qxh4+,Kxh4,Rf1,Rxa6,Rh1+,Kg5,Rf2,Kg6', 'Rh6+,Kg5,Rxa6', 'https://lichess.org/training/xw10p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XW5J3', 'Rapid', 'keremozcelikk', 1832, 'Fuerza', 1930, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,d6,e3,h6,Nf3,hxg5,Nxg5,c5,Bd3,cxd4,exd4,Bg4,f3,Qa5,Ne4,Bf5,g4,Nxe4,fxe4,Bd7,Qc2,Bxd4,O-O-O,Nc6,Nd5,Nb4,Nxb4,Qxb4,a3,Qb6,Be2,O-O-O,Rd3,Kb8,Rhd1,Be3+,Kb1,Rc8,Rb3,Qc5,Rd5,Qc7,Rxe3,Rxh2,Rb3,Be6,Rdb5,Bxc4,Rxb7+,Qxb7,Rxb7+,Kxb7,Qa4,Rh1+,Bd1,Be2,Qb3+,Kc7', 'Qc2+,Bc4,Qxc4+', 'https://lichess.org/training/XW5J3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xw6kB', 'Rapid', 'jgarvik', 1993, 'natello35', 1885, 'e4,b6,Nf3,d6,Nc3,g6,d4,Bg7,Be3,c5,dxc5,bxc5,Bb5+,Nd7,O-O,Bb7,Qd2,a6,Bc4,Ngf6,Bd5,Nxd5,Nxd5,O-O,c3,Bxd5,Qxd5,Qb6,Rab1,Nf6,Qd3,Rfc8,b4,c4,Qc2,Qb5,a4,Qd7,Rfd1,Ne8,Bd4,e5,Nxe5,dxe5,Bxe5,Qe6,Bxg7,Nxg7,Rd4,Rd8,Rbd1,Rxd4,Rxd4,Qc6,Qd2,Ne6,Rd6,Qxe4,f3,Qb1+,Kf2,Qb3,a5,Re8,h4,Nc7,Rd8,Qa4,h5,gxh5,Rd7,Ne6,Rd5,Qc6,Rxh5,Rd8,Qh6,Qd6,Qxh7+,Kf8,Qh6+,Ke7,Kg1,Qd1+,Kh2,Qd3,Re5,Qg6,Qh4+,Kd6', 'Rxe6+,Kxe6,Qxd8', 'https://lichess.org/training/Xw6kB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xw7Eh', 'Blitz', 'iqbal2009', 2076, 'juanitc', 2088, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Bd3,Ngf6,Ne2,Nxe4,Bxe4,Nf6,Bd3,Bg4,f3,Bh5,O-O,e6,c3,Bd6,Qb3,Qb6,Re1,O-O,Nf4,Bg6,Bxg6,hxg6,Nxg6,Qxb3,axb3,fxg6,Rxe6,Rfd8,Bg5,Kf7,Re2,a6,b4,Rd7,Rae1,Re7,Rxe7+,Bxe7,Bf4,Re8,Kf2,Bd8,Rxe8,Kxe8,g4,Kd7,Ke3,Bc7,Bg5,Ke6,h4,Nd5+,Ke4,Nf6+,Ke3,Bg3,f4,Nd5+,Kf3,Be1,Ke4,Bd2', 'f5+,gxf5+,gxf5+,Kd7,Bxd2', 'https://lichess.org/training/xw7Eh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xw7Us', 'Blitz', 'EmilioCS', 1554, 'orkunuzumcu1', 1545, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,O-O,Qg5,c3,d6,d3,Qg6,cxd4,Bh3,g3,Bxf1,Qxf1,Nf6,e5,dxe5,dxe5,Nd7,d4,Qb6,Qd3,Rd8,Nd2,Nxe5,Qf5,Nxc4,Nxc4,Qxd4,Ne5,f6', 'Qe6+,Be7,Qf7#', 'https://lichess.org/training/Xw7Us');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xw8CX', 'Rapid', 'vicous', 2020, 'HTabriz', 1895, 'e4,c5,c3,e5,Nf3,Nc6,d4,cxd4,cxd4,Bb4+,Bd2,exd4,Bxb4,Nxb4,Bc4,Nc6,Nxd4,Qf6,Nxc6,dxc6,Nc3,b5,Bb3,Qg6,O-O,Bh3,Qf3,Bg4,Bxf7+,Qxf7,Qxg4,Nf6,Qf5,O-O,e5,Nd5,Qxf7+,Rxf7,Nxd5,cxd5,Rad1,Rd8,Rd4,g5,Rfd1,Rc7,Kf1,Rc2,R1d2,Rxd2,Rxd2,d4,g3,Kf7,f4,gxf4,gxf4,Ke6,Kf2,Kf5,Kf3,a5,Rd3,a4,b4,axb3,axb3,b4,Rd2,d3,Ke3,h6,Rxd3,Rc8,Kf3,Rc1,Re3,Rf1+,Kg2,Rxf4,e6,Rg4+,Kf2,Rg8,Kf3,Re8,e7,Kf6,Kg4,Rxe7', 'Rxe7,Kxe7,Kh5,Kf6,Kxh6', 'https://lichess.org/training/xw8CX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xw9qN', 'Rapid', 'PryingSemtex', 1938, 'STUMARI', 1918, 'd4,d5,e3,Bf5,h3,e6,Nf3,c5,b3,a6,Bd3,Bg6,Bxg6,hxg6,Bb2,g5,Nbd2,g4,Ne5,f5,Qe2,Bd6,O-O-O,Bxe5,dxe5,gxh3,Rxh3,Rxh3,gxh3,g5,Qh5+,Kd7,c4,Ne7,Nf3,Kc6,Nxg5,Qg8,cxd5+,Nxd5,e4,fxe4,Nxe4,Nd7,Nf6,N7xf6,exf6,Qh8,Qf7,Re8,Be5,Qf8,Rxd5,Qxf7,Rd6+,Kb5,Kb2,Rc8', 'a4+,Ka5,Bc3#', 'https://lichess.org/training/xw9qN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XW9w8', 'Rapid', 'HarryMaybourne', 2215, 'ack002', 2213, 'c4,e6,Nc3,Nf6,d4,d5,cxd5,exd5,g3,c6,Bg2,Bd6,Nf3,O-O,O-O,Bf5,Bf4,Bxf4,gxf4,Nbd7,Ne5,Re8,e3,Nf8,Kh1,Qc8,Rg1,Qe6,Bf3,Rad8,Rg3,Ng6,Qe2,Ne4,Nxe4,Bxe4,Bxe4,dxe4,Qc4,Nxe5,Qxe6,Rxe6,fxe5,c5,Rd1,Rxe5,Rdg1,cxd4,Rxg7+,Kf8,exd4,Rxd4,Rxh7,Rd2,Rc1,Re8,Rc7,Rxf2,Rxb7,e3', 'Rh8+,Kg7,Rxe8', 'https://lichess.org/training/XW9w8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XWAUC', 'Rapid', 'Jimmy_G', 2237, 'PMJamon', 2101, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,h4,h5,Bd3,Bxd3,Qxd3,c5,Be3,cxd4,Nxd4,Nf6,O-O-O,Nbd7,Nxe6,Qa5,Nxf8,Nxf8,Nf5,N8d7,Rhe1,O-O,Kb1,Rad8,Ne7+,Kh8,Qf5,Qa6,Bg5,Rfe8,Bxf6,Nxf6,Rxd8,Rxd8,Qg5,Qd6,Nf5,Qd1+,Rxd1,Rxd1+,Qc1,Rxc1+,Kxc1,Kg8,Kd2,g6,Nd6,b6,Nc8,Nd5,Nxa7,Kg7,Nb5,f5,Nc3,Nf4,g3,Ne6,a4,Nc7,b4,Kf6,a5,b5,Kd3,Ke5,Ne2,Na6,c3,Nc7,Nf4,Kf6,Kd4,g5,Nd5+,Nxd5,Kxd5,gxh4,a6', 'h3,Kc5,h2', 'https://lichess.org/training/XWAUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xWay3', 'Rapid', 'Nicholas04', 1854, 'Thor_Ragnarok', 1723, 'f4,c6,e4,d5,e5,Bf5,g4,Be4,Nf3,e6,h4,Nh6,d3,Bxf3,Qxf3,Qb6,Bh3,Bc5,Nc3,Bb4,Bd2,d4,Ne4,Bxd2+,Kxd2,Qxb2,Rhb1,Qa3,Nd6+,Ke7,Rxb7+,Nd7,Qxc6,Qa5+,Kd1,Qd8,Qc5,Kf8,Rxd7,Qxd7,Nf5+,Kg8,Ne7+,Kf8,Ng6+,Kg8,Nxh8,Kxh8,Rb1,Rc8,Qd6,Qa4,Rb2,Ng8,f5,exf5,gxf5,Qe8,f6,Rd8,fxg7+,Kxg7,Qc5,Ne7,e6,Rd5,exf7', 'Qxf7,Qb4,Qf3+', 'https://lichess.org/training/xWay3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwBBi', 'Rapid', 'eze33', 1609, 'fcastellote57', 1610, 'e3,e5,a3,Nc6,b4,Nf6,c4,d5,cxd5,Qxd5,Nc3,Qe6,Bb2,Bd6,e4,O-O,Nf3,Nd4,Nxd4,exd4,Nb5,Be5,Bxd4,Bxd4,Nxd4,Qb6,Nf5,Bxf5,exf5,Rfe8+,Be2,Ne4,O-O,Rad8,d3', 'Nc3,Qd2,Nxe2+', 'https://lichess.org/training/xwBBi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwbK6', 'Rapid', 'PrWolkonsky', 1650, 'breedta', 1651, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,Bg4,h3,Bh5,Nxe5,Nxe5,Qxh5,Qf6,Bb3,g6,Qe2,Bh6,d4,Bxc1,Rxc1,Nc6,Ba4,O-O-O,Bxc6,bxc6,O-O,Qxd4,Qa6+,Kd7,Rfd1,Qb6,Qa3,Re8,Kh2,Nf6,f3,h5,Na4,Qf2,Nc5+,Kc8,Qa6+,Kd8,Nb7+,Ke7,Rf1,Qd2,Qxc6,Qf4+,g3,Qd2+,Kg1,h4,Qxc7+,Kf8,Rcd1,Qe3+,Kh1,hxg3,Qxd6+,Kg7,Qxg3,Nh5,Qf2,Qf4,Nd6,Ng3+,Kg2,Nxf1,Nxe8+,Kf8,Kxf1,Kxe8,Kg2,Qg5+,Kf1,Rxh3,Qxa7,Rh1+,Ke2,Qg2+,Qf2', 'Qxf2+,Kxf2,Rxd1', 'https://lichess.org/training/xwbK6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xWBKv', 'Rapid', 'ifekali', 1695, 'sedric', 1609, 'e4,e5,Nf3,d6,d4,exd4,c3,dxc3,Nxc3,Qe7,Bc4,c6,O-O,h6,b4,Nf6,Bb2,Bg4,b5,Nbd7,bxc6,bxc6,Re1,Rd8,Qe2,Ne5,Rad1,Bxf3,gxf3,Nh5,Bb3,Qf6,Kh1,Nxf3,Nd5,Qh4,Qxf3,cxd5,exd5+,Be7,Ba4+,Qxa4,Qxh5,Qxa2,Bxg7,Rg8,Qxh6,Qb3,Qh7,Qf3+,Kg1,Qg4+,Kf1,Qxg7,Qe4,Qg1+,Ke2,Qg4+,Qxg4,Rxg4,Kf3,Rh4,Rb1,Rxh2,Rg1,Rh8,Rb7,f6,Re1,Rh7,Rxa7,Kf7,Ra4,Kf8,Ra7,Re8,Re4,f5,Re3,Bg5', 'Rxe8+,Kxe8,Rxh7', 'https://lichess.org/training/xWBKv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XwcC7', 'Rapid', 'per_m2', 1620, 'mmm19091970', 1875, 'd4,c6,Bf4,d5,e3,Bf5,Nf3,Nf6,c3,e6,Nbd2,a6,Be2,c5,Ne5,Nc6,g4,Bg6,Nxg6,hxg6,g5,Nh5,Bxh5,Rxh5,Qe2,cxd4,exd4,Bd6,Bxd6,Qxd6,O-O-O,Rxg5,Kb1,Rh5,Nb3,b6,c4,dxc4,Qxc4,Qd5,Qc3,Rc8,Qg3,a5,Rhe1,a4,Nc5,bxc5,dxc5,Qf5+,Ka1,Ne7,Qd6,Qxc5', 'Qd7+,Kf8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/XwcC7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XWDGX', 'Rapid', 'pagotaki', 1766, 'ReyMarron1', 1769, 'd4,d5,c4,e6,cxd5,exd5,Nc3,c6,Nf3,Bg4,Ne5,Nf6,Nxg4,Nxg4,f3,Nh6,Bxh6,gxh6,e4,Rg8,Qd2,Bb4,O-O-O,Be7,exd5,cxd5,Re1,Kf8,Qxh6+,Rg7,Re5,Bg5+,Qxg5,Qxg5+,Rxg5,Rxg5,f4,Rf5,g3,Nc6,Bg2,Rd8,Re1,Nxd4,Rd1,Ne6,Bxd5,b6,Kc2,Nc5,b4,Ne6', 'Bxe6,Rxd1,Bxf5', 'https://lichess.org/training/XWDGX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwfNF', 'Rapid', 'evlinkov', 1760, 'thweenth', 1791, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Bxd5,Qxd5,Qf3,e4,Qxe4+,Qxe4+,Nxe4,Bb4,Nbc3,O-O,O-O,Nd4,Nd5,Nxc2,Nxc7,Nxa1,Nxa8,Bf5,Ng3,Bd3,Nc7,Bxf1,Kxf1,Nc2,a3,Bd6,Nb5,Bb8,Ke2,Rc8,d3,a6,Nc3,Nd4+,Ke1,Re8+,Kf1,Bxg3,hxg3,Nc2,Bd2,Nd4,Ne4,b5,Be3,Nf5,Bb6,Rc8,Nc5,Rc6,Ba7,a5,Ke2,Nd4+,Kd1,Rh6,Nb7,Nc6,Bb6,a4,d4,Rh1+,Kd2,Rg1,d5,Ne5,Bd4,Nd7,Nc5,Nf8,d6,Rxg2,d7,Nxd7,Nxd7,h5,Ne5,f6,Nf3,Kf7,Ke1,g5', 'Kf1,Rxg3,fxg3', 'https://lichess.org/training/xwfNF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwFzF', 'Classical', 'Hi_Im_Mic', 1621, 'FireGuard', 1603, 'e4,Nc6,Nf3,b6,d4,e6,Bb5,Bb7,Nc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Bb4,Qd3,a6,Bxc6,Bxc6,a3,Bf8,d5,exd5,exd5,Bb7,Qe3+,Be7,Be5,Ng4,Qe4,Nxe5,Qxe5,Rf8,O-O-O,f6,Qf5,Rg8,Qh7,Rf8,Qxh6,d6,Rhe1,Rg8,h4,Qd7,Qh5+,Kd8,hxg5,fxg5,Qh7,Re8,Qg7,Kc8,Nxg5,Bxg5+,Qxg5,Kb8,Rxe8+,Qxe8,Qe3,Qg6,Qf3,Ka7,Re1,Qg5+,Qe3,Qxg2,Qg3,Rg8,Qxg2,Rxg2,Re7,Kb8,Re8+,Bc8,Rf8,Kb7,Ne4,Rg4,Ng3,Rd4,Nh5', 'Bg4,c3,Rd1+,Kc2,Bxh5', 'https://lichess.org/training/xwFzF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XWGQa', 'Rapid', 'Lexa70', 2023, 'asdfchessplayer', 1964, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nc6,c3,Bd6,Ne2,Qh4,g3,Qh3,Bf4,Nf6,Bxd6,cxd6,Nf4,Qd7,O-O,h5,Re1+,Kd8,Qf3,h4,Nxd5,Nxd5,Qxd5,hxg3,fxg3,Ne7,Qg2,Rb8,a4,f5,Bb5,Qc7,Nd2,b6,Be2,g5,Nf1,g4,Bd3,Bb7,Qf2', 'Qc6,Be4,fxe4', 'https://lichess.org/training/XWGQa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwH3l', 'Blitz', 'Yeko000', 1820, 'Wildstrawberry', 1815, 'd4,d5,c4,Nf6,Nc3,e6,e3,c5,Nf3,Nc6,a3,b6,dxc5,Bxc5,b4,Bd6,cxd5,exd5,Bb5,Bb7,Nd4,Qc7,O-O,Bxh2+,Kh1,Be5,Nce2,O-O,Bb2,Nxd4,Bxd4,a6,Bd3,Rfe8,Rc1,Qd6,f4,Ng4,fxe5', 'Qh6+,Kg1,Qh2#', 'https://lichess.org/training/xwH3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XWhgY', 'Rapid', 'Ali2893', 1801, 'patrik224', 1699, 'e4,e5,a3,Nf6,Nc3,Bc5,h3,Nc6,Nf3,Nd4,d3,O-O,Bd2,d5,Be2,dxe4,Nxe4,Nxe2,Kxe2,Bd4,Nxf6+,Qxf6,c3,Bc5,b4,Bd6,Qc1,Bf5,Re1,Rfe8,Bg5,Qg6,Rd1,Bd7,Kf1,Ba4,Rd2,e4,dxe4,Rxe4,Be3,Bb3,Qb2,Bc4+,Kg1,Be6,g4,Bxg4,hxg4,Rxg4+,Kf1,Qe4,Nd4,Rd8,Qc2', 'Qh1+,Ke2,Qxa1', 'https://lichess.org/training/XWhgY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XWJQh', 'Rapid', 'rajeev_lochan', 1756, 'willemvrey', 1770, 'e4,e5,Nf3,Nc6,h3,Nf6,d3,h6,a3,d6,Be2,Be6,Nc3,a6,b3,Qd7,Na2,O-O-O,Nb4,d5,Nxc6,Qxc6,Nxe5', 'Qc3+,Bd2,Qxe5', 'https://lichess.org/training/XWJQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwmGZ', 'Rapid', 'spreeathener', 1793, 'LaLinea', 1786, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,d5,exd5,Qxd5,Bxc6+,bxc6,O-O,Nf6,Re1,Bg4,d4,e4,dxc5,Qxd1,Rxd1,exf3,gxf3,Bxf3,Rd4,O-O,Be3,Rfd8,Nd2,Bh5,Kg2,Rd5,Nf3,Rxc5,Rad1,h6', 'Rd8+,Rxd8,Rxd8+,Kh7,Bxc5', 'https://lichess.org/training/xwmGZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwmmi', 'Rapid', 'mutiks', 1944, 'pushpawns', 1767, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,Nf3,c6,cxd5,cxd5,Bd3,Nc6,O-O,O-O,b3,b6,Bb2,Bb7,Rc1,Re8,Re1,Nb4,a3,Nxd3,Qxd3,Ne4,Nb5,a6,Nc7,Rf8,Nxa8,Qxa8,b4,b5,Rc7,Rc8,Rec1,Rxc7,Rxc7,Bf8,Ne5,Qb8,Qc2,Nd6,Nc6', 'Qxc7,Nxe7+,Qxe7', 'https://lichess.org/training/xwmmi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xWNDr', 'Rapid', 'rafaella_bog', 1652, 'afattahi', 1633, 'd4,e6,e4,c5,dxc5,Bxc5,Bc4,Nf6,e5,Ne4,Nf3,Nxf2,Bg5,Qa5+,Bd2,Qxd2+,Qxd2,Nxh1,Nc3,Nf2,Na4,Ne4,Qf4,d5,Bb5+,Bd7,Bxd7+,Nxd7,Nxc5,Ndxc5,Rd1,O-O,Ng5,Nxg5,Qxg5,f6,exf6,Rxf6,Qe5,Rc8,Qd6,Ne4,Qd7,Rxc2,Qxb7,Rxg2,Qxa7,Rxh2', 'Qb8+,Rf8,Qxh2', 'https://lichess.org/training/xWNDr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwnts', 'Classical', 'Musical-Chess', 2025, 'Poula96', 1872, 'e4,c5,Nf3,Nc6,Be2,e5,O-O,Be7,Nc3,Nf6,d3,h6,Nd5,d6,c4,O-O,Bd2,Nxd5,exd5,Nd4,Nxd4,cxd4,f4,f5,Bf3,Qe8,Bh5,Qd7,Qe1,Bf6,Qg3,Qe7,fxe5,dxe5,Rae1,f4,Bxf4,exf4,Qxf4,Qd8,Qg3,Bg5', 'Rxf8+,Qxf8,Re8,Bf5,Rxf8+', 'https://lichess.org/training/xwnts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xWnY5', 'Classical', 'ajfirecracker', 1705, 'Nassyb', 1734, 'Nc3,d5,Nf3,Nc6,e4,d4,Ne2,e5,d3,Bb4+,Bd2,Bxd2+,Qxd2,Bg4,O-O-O,Bxf3,gxf3,Qd6,Kb1,a5,h4,b5,Bh3,b4,f4,a4,fxe5,Nxe5,Nc1,b3,cxb3,axb3,Nxb3,Qa6,a3,Ne7,Nxd4,Rb8,f4,N5c6,Nxc6,Nxc6,Rc1,Nd4,Qc3,Qb6,Rh2,O-O,Rg2,g6,Qxc7,Qxc7,Rxc7,Nb5,Rc5,Nxa3+,Ka2,Nb5,Bd7,Ra8+,Kb1,Nd4,Rd5,Nb3,h5,Rfb8,hxg6', 'Ra1+,Kc2,Rc1#', 'https://lichess.org/training/xWnY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xWp02', 'Blitz', 'limoc', 1762, 'imaslov', 1779, 'd4,Nf6,Bf4,g6,Qc1,h5,h4,Bg7,Nf3,Nc6,c3,d5,Nbd2,Bf5,e3,Qd7,Bb5,a6,Ne5,Qe6,Bxc6+,bxc6,c4,Ne4,Ndf3,O-O,cxd5,cxd5,Nc6,Bg4,Nfe5,Nd6,f3,Bf5,O-O,f6,e4,fxe5,exf5,Nxf5,dxe5,Nxh4,Bg5,Nf5,f4,Bh6,Qc5,Bxg5,fxg5,Ng3,Nxe7+,Kg7,Qxc7,Nxf1', 'Nf5+,Kh8,Qg7#', 'https://lichess.org/training/xWp02');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xwp05', 'Rapid', 'IceS2', 1656, 'madpin', 1682, 'e4,e5,f4,exf4,Bc4,c6,d4,d5,exd5,cxd5,Bb3,Nc6,Bxf4,Nf6,Nf3,Bf5,O-O,Bd6,Re1+,Ne4,Bxd5,Bxf4,Bxe4,Bg4,Bxc6+,Kf8,Bxb7,Rb8,Re4,g5,Ba6,f5,Re6,Rb6,Rxb6,Qxb6,Be2,Bxf3,Bxf3,Kg7,b3,Rd8,c3,g4,Be2,Be3+,Kf1,Re8,Bc4,a5,Qd3,Qd6,Qxf5', 'Rf8,Bf7,Rxf7,Qxf7+,Kxf7', 'https://lichess.org/training/Xwp05');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XWPAe', 'Rapid', 'DaKoko1', 1674, 'ogzhnkaya', 1618, 'd4,d5,Nf3,Bg4,Nbd2,e6,b3,Nf6,Bb2,Bb4,c3,Bd6,h3,Bh5,e3,O-O,Be2,h6,O-O,Re8,Ne5,Nbd7,c4,Nxe5', 'dxe5,Bxe5,Bxe5', 'https://lichess.org/training/XWPAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwqE4', 'Rapid', 'SamDooley', 2102, 'Stubenhocker13579', 2082, 'Nf3,b6,g3,Bb7,Bg2,e5,O-O,d6,d3,f5,Nbd2,Nf6,c3,Nbd7,e4,f4,gxf4,exf4,Re1,Be7,Ng5,Ne5,d4,Ng6,Ne6,Qd7,Nxg7+,Kf7,Nf5,Bf8,Qb3+,d5,e5,Qxf5,exf6,Rg8,Kh1,Bd6,Nf3,Rae8,Bd2,Kxf6,Qb5,c6,Qf1,Bc8,Rxe8,Rxe8,Re1,Rxe1,Qxe1,Bd7,a3,Qh5,Qe2,Bf5,Ng1,Qxh2+,Kxh2,f3+,Kh1,fxe2,Nxe2,Nh4,Bf4,Nxg2,Kxg2,Bf8,Kg3,Bd3,Be5+,Kf5,Nf4,Bb5,f3,c5,Ng2,cxd4,Bxd4,Bd6+,Kf2,Bc5,Ke3,Bf1,Ne1,h5,Bxc5,bxc5,Kf2,Bc4,Kg3,d4,cxd4,cxd4,Nc2,d3', 'Ne3+,Ke5,Nxc4+', 'https://lichess.org/training/xwqE4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XWs68', 'Classical', 'iHomba', 1682, 'Jorge730', 1638, 'e4,c5,f4,d6,Nf3,Nc6,Bc4,e6,O-O,Qc7,f5,Nf6,fxe6,Bxe6,Bxe6,fxe6,Nc3,O-O-O,e5,Nd7,exd6,Bxd6,d3,Nce5,Nb5,Nxf3+,Rxf3,Bxh2+,Kh1,Qe5,Nxa7+,Kb8,Nb5,h6,Bd2,g5,Bc3,Qd5,Bxh8,Rxh8,Kxh2,g4,Rg3,Ne5,Qe2,h5,Nc3,Qd4,Re1,h4,Re3,g3+,Kh1,h3,Rxg3,hxg2+,Kxg2,Qh4,Qxe5+,Ka8,Qxh8+,Qxh8,Rxe6,Ka7,Reg6,Qc8,R3g4,Qe8,Ne4,Qa4,Nxc5,Qxc2+,Kf3,Qxc5,Kg3,Qe3+,Kh4,Qxd3,Rg2,Qe4+,R6g4,Qh7+,Kg3,Qd3+,Kh2,Qh7+,Kg3,Qc7+,Kh4,Qe7+,Kh5,Qh7+,Kg5,Qe7+,Kf4,Qf7+,Kg3,Qxa2,Rf4,Qg8+,Kf3,Qd5+,Re4,Qh5+,Rgg4,Qh1+,Ke3,Qc1+,Kd4,Qxb2+,Kc5,Qb6+,Kd5,Qb5+,Ke6,Qe8+,Kd5,Qc6+,Kd4,Qd6+,Kc3,Qa3+,Kc2,Qc5+,Kb2,Qf2+,Kb3,Qf3+,Kb4,Qf8+,Kb3,Qf7+,Rc4,Qf3+,Ka4,Qd1+,Kb5,Qd7+,Kb4,Qe7+,Kb3,Qe3+,Rc3', 'Qe6+,Rgc4,b5', 'https://lichess.org/training/XWs68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XwsHi', 'Rapid', 'Zdenkos', 1628, 'Abiteboule', 1657, 'e4,e5,Bc4,Nf6,Qf3,c6,h3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,d3,Nc6,c3,d4,Bg5,Be7,Bxf6,Bxf6,Ne2,O-O,O-O,Rfe8,Ng3,Bh4,a3,Bxg3,Qxg3,f5,Nd2,e4,dxe4,fxe4,Rfe1,dxc3,Nxe4,cxb2', 'Nf6+,Kh8,Nxd7,bxa1=Q,Rxa1', 'https://lichess.org/training/XwsHi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwSkI', 'Classical', 'ahmetyesevi', 1737, 'dozerkayser', 1693, 'e4,b6,Nc3,Bb7,d4,d5,e5,e6,Bd3,c5,dxc5,Bxc5,Nf3,Nd7,a3,Ne7,b4,Bxf2+,Kxf2,O-O,Re1,Ng6,h3,Qc7,Bxg6,fxg6,Kg1,Qxc3,Rb1,d4,Nxd4,Qg3,Re2,Nxe5,Rb3,Nf3+,Rxf3', 'Bxf3,Nxf3,Rxf3', 'https://lichess.org/training/xwSkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwTMc', 'Rapid', 'naprof', 1902, 'zPino', 1621, 'e4,e5,d4,exd4,c3,Nc6,Nf3,dxc3,Bc4,Nh6,O-O,cxb2,Bxb2,f6,Re1,Bc5,Qd5,d6,e5,fxe5,Nxe5,Nxe5,Bxe5,Bxf2+,Kxf2,Ng4+,Kg1,Nxe5,Rxe5+,dxe5', 'Qf7#', 'https://lichess.org/training/xwTMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xWWJZ', 'Rapid', 'jibreccia', 1718, 'bangak', 1751, 'e4,Nf6,Nf3,Nxe4,Bc4,Nxf2,Bxf7+,Kxf7,Ne5+,Kg8,Qf3,Qe8,Qxf2,Nc6,Nxc6,bxc6,O-O,Qf7,Qe1,Qg6,Nc3,e6,d3,Bd6,Ne4,Bb7,Nxd6,cxd6,Qb4,Ba6,Qxd6,h5,Qxd7,Kh7,Qxc6,Rhf8,Qxa6,Rxf1+,Kxf1,Rf8+,Kg1,Qf5,Bd2', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/xWWJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwx3t', 'Rapid', 'MoWooly', 2061, 'pgrandpre', 2079, 'e4,e5,Nf3,Nf6,d3,Nc6,Bg5,Bc5,Be2,h6,Bh4,g5,Bg3,d6,Nc3,Bg4,Na4,Bb4+,c3,Ba5,b4,Nxb4,cxb4,Bxb4+,Kf1,b5,Nb2,Bc3,Rb1,b4,Qb3,Bxf3,Bxf3,h5,h3,h4,Bh2,Qd7,Nd1,O-O,Nxc3,bxc3,Qxc3,Rfb8,Rc1,Qb5,Bd1,Nxe4,Qc4', 'Nd2+,Ke2,Nxc4', 'https://lichess.org/training/xwx3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwxaN', 'Rapid', 'Xiombarg', 2294, 'voytek', 2141, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d4,exd4,O-O,Nxe4,Nc3,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Re1,Be7,Rxe4,d6,Bg5,Qd7,Rae1,cxb2,Bxe7,Nxe7,Qg5,b1=Q', 'Rxe7+,Qxe7,Qxe7#', 'https://lichess.org/training/xwxaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XWxKU', 'Rapid', 'About9Bushmen', 1620, 'JosephDevlin', 1640, 'e4,e5,Nf3,d6,g3,Bg4,Bg2,Nc6,d3,Nd4,Nbd2,Ne7,c3,Ne6,O-O,h6,h3,Bxf3,Nxf3,c6,b4,a6,Be3,Ng6,a4,d5,a5,d4,cxd4,exd4,Bd2,b5,Rc1,Rc8,Nh4,Nxh4,gxh4,Qxh4,e5,c5,Bb7,Rc7,Bxa6,Nf4,Bxb5+,Kd8,Qg4', 'Nxh3+,Qxh3,Qxh3', 'https://lichess.org/training/XWxKU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XWxx7', 'Classical', 'napolean15', 1803, 'rezav', 1627, 'e4,e5,Nf3,Nc6,d4,Bd6,dxe5,Nxe5,Nc3,Qf6,Be2,Nxf3+,Bxf3,Bb4,O-O,Bxc3,bxc3,d6,Bb2,Nh6,Qd2,Qh4,c4,Ng4,h3,Ne5,Bxe5,dxe5,Rad1,O-O,Qd5,Qf4,Qc5,c6,Rd3,Be6,Rfd1,Qf6,Bg4,Bxg4,hxg4,h6,Rf3,Qe6,Rd6,Qe7,Rfd3,Rad8,Qa3,Kh7', 'Rxh6+,gxh6,Qxe7', 'https://lichess.org/training/XWxx7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwYGN', 'Rapid', 'ronan_zal', 1984, 'OneBadEye', 2023, 'd4,e6,Bf4,d6,Nf3,Nd7,Nc3,Ngf6,e4,b6,Bd3,Bb7,O-O,h6,h3,g5,Bh2,g4,hxg4,Nxg4,Re1,Nxh2,Kxh2,h5,d5,Bh6,Bc4,e5,Ne2,Nf6,Ng3,Bf4,Kg1,Bc8,Bb5+,Ke7,Bc6,Rb8,Nh4,Qg8,Ngf5+,Bxf5,Nxf5+,Kf8,Qf3,Ng4,Bb5,h4,g3,hxg3,fxg3,Nh2,Qg2,Qg4,Kf2,Nf3,Rf1', 'Rh2,Qxh2,Nxh2', 'https://lichess.org/training/xwYGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwyqz', 'Classical', 'capobruno', 1719, 'Mrsoni67', 1723, 'g3,d5,Bg2,c6,h3,e5,d3,Bf5,a3,Nf6,b3,Bc5,Bb2,Nbd7,e3,Qe7,Ne2,h5,Nd2,O-O-O,e4,dxe4,dxe4,Bg6,Nc3,Bb6,a4,a6,Ba3,Qe8,Qe2,Nc5,a5,Ba7,b4,Ne6,Na4,Bd4,c3,c5,cxd4,Qxa4,dxc5', 'Nd4,Qc4,Nc2+', 'https://lichess.org/training/xwyqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xWYsc', 'Rapid', 'sawyas', 2002, 'Melzas', 1798, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,h6,Bh4,a6,Na3,Be7,Bxf6,Bxf6,Nd5,Be7,c3,Be6,Nxe7,Qxe7,Nc4,Rd8,Qf3,O-O,O-O-O,b5,Nb6,Bxa2,Kc2,Be6,Ra1,b4,Rxa6,b3+,Kb1,f5,Bd3,f4,Qe2,Nb8,Ra3,Qb7,Bc4,Bxc4,Qxc4+,Kh8,Rxb3,Nc6,Rd1', 'Na5,Qd5,Qxd5', 'https://lichess.org/training/xWYsc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xWyt7', 'Classical', 'IevaGriksaite', 2048, 'mikhael10tal', 1927, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,Nc3,Bg4,h3,Bh5,Be3,Bxe3,fxe3,Nf6,Qe2,O-O,g4,Bg6,O-O-O,h6,g5,hxg5,Nxg5,Nh7,Nxh7,Bxh7,Rdg1,Ne7,h4,a6,h5,Qe8,Qg4,g6,hxg6,Nxg6,Qxg6+,Bxg6', 'Rxg6#', 'https://lichess.org/training/xWyt7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xwzYr', 'Rapid', 'Bamakot', 1957, 'Jyothilal', 1963, 'e4,Nc6,d4,d5,e5,f6,Nf3,fxe5,Nxe5,Nxe5,dxe5,Bf5,Bd3,e6,O-O,Bc5,Bxf5,exf5,Qf3,Ne7,Bg5,O-O,a3,h6,Bh4,Bd4', 'Bxe7,Qxe7,Qxd5+', 'https://lichess.org/training/xwzYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xx0uE', 'Blitz', 'nicemove', 2376, 'FM calvinmaster', 2391, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,a6,Bg5,e5,Bxd8,exd4,Bb6,Nf6,Nbd2,d5,e5,Ne4,Bxd4,Nc6,c3,Be6,Bd3,Nxd2,Kxd2,Nxd4,Nxd4,Bd7,f4,Bc5,Rhe1,O-O,h3,Rae8,Re2,h5,Rae1,Re7,f5,Bc8,g4,hxg4,hxg4,Rfe8,Nf3,g6,b4,Bb6,e6,fxe6,fxg6,e5,Rxe5,Rxe5,Rxe5,Rxe5,Nxe5,Bc7,Nf3,Bxg4,Nd4,Kg7,Ke3,Bb6,Kf4,Bd7,Ke5,Bd8,Kd6,Be8,Kxd5,Kg8,Kd6,Bf6,Kc7,b5,Kb6,Kg7,Nxb5,axb5,Bxb5,Bxg6,c4,Bb1,a4,Bd8+,Ka6,Be4,c5,Kf6,c6,Ke7', 'Kb7,Kd6,a5', 'https://lichess.org/training/xx0uE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xx7zJ', 'Rapid', 'Kosta1952', 1590, 'Player1578', 1586, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,g6,d3,Bg7,Bd2,d5,exd5,exd5,Nxd5,Nf6,Nxf6+,Qxf6,Bc3,Qe7+,Qe2,Bxc3+,bxc3,O-O,Qxe7,Nxe7,O-O,b6,Rfe1,Nf5,h3,Bb7,Ne5,Kg7,g4,Nh4,Kh2,Rfe8,Bxf7', 'Rxe5,Rxe5,Nf3+,Kg3,Nxe5', 'https://lichess.org/training/xx7zJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xX9mU', 'Rapid', 'Hopper17', 1850, 'Chico36', 1790, 'e4,c6,d4,d5,exd5,cxd5,c3,Bf5,Bd3,Bxd3,Qxd3,e6,Qb5+,Qd7,Qd3,Nf6,Qg3,Bd6', 'Qxg7,Rg8,Qxf6', 'https://lichess.org/training/xX9mU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXa2T', 'Classical', 'Brito704', 1724, 'edmar_junior', 1620, 'd4,d5,Bf4,Bf5,e3,e6,c4,dxc4,Bxc4,Nf6,Nf3,Nc6,a3,Be7,O-O,O-O,Nc3,a6,Nh4,Be4,Nxe4,Nxe4,Nf3,h6,h3,g5,Bh2,h5,Nd2,Nxd2,Qxd2,Bd6,Bb3,Bxh2+,Kxh2,Qd6+,g3,Ne5,Qe2,Qb6,Bc2,Ng6,Rab1,f5,Qxh5,Kg7,Qxg5,Rh8,Rfd1,Rh6,h4,Rah8,e4,Qc6,Rbc1,Rh5,Qd2,Qd6,e5,Qd5,Qe2,f4,Bxg6', 'Rxh4+,gxh4,Rxh4+,Kg1,Rh1#', 'https://lichess.org/training/xXa2T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXAA1', 'Rapid', 'colares', 1676, 'beppe93', 1655, 'd4,Nf6,c4,d6,Nc3,g6,Nf3,Bg7,e3,O-O,Bd3,Nbd7,O-O,c5,d5,Ng4,Qc2,Nde5,Nxe5,Nxe5,a3,Nxd3,Qxd3,Bf5,e4,Bg4,f3,Bd7,Kh1,e6,b4,exd5,cxd5,a6,bxc5,dxc5,Rb1,b5,Be3,c4,Qd2,Qf6,Rfc1,Rfb8,Ne2,a5,Bd4,Qe7,Bxg7,Kxg7,Qc3+,Kg8,Nd4,b4,Qxc4,bxa3,Nc6,Bxc6,Qxc6,Rxb1', 'Qxa8+,Kg7,Rxb1,a2,Ra1', 'https://lichess.org/training/xXAA1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXal0', 'Rapid', 'MarioiraM', 1761, 'eransh87', 1843, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bf4,Bb4,c5,Nbd7,Bd6,Qa5,Rc1,Ne4,a3,Bxc3+,bxc3,Nxd6,cxd6,Qxa3,Ne5,Qxd6,e3,Nxe5,dxe5,Qxe5,Bd3,O-O,O-O,f5,Bb1,b6,Re1,Ba6,f3,Qf6,e4,fxe4,fxe4,dxe4,Bxe4,Rad8,Qh5,g6,Qh3,Bc4,Bxc6,Bd5,Bb5,e5,c4,Be6,Qe3,Qf4,Qc3,Qf2+,Kh1,Rd2,Rg1,e4,Qe5,Bf5,Rcf1,Qd4,Qe7,e3,Bc6,e2,Re1,Rd1', 'Bd5+,Qxd5,cxd5,Rxe1,Rxe1', 'https://lichess.org/training/xXal0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XXAzE', 'Rapid', 'Djanysh_25', 2140, 'Strela2020', 1985, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,Nd5,d3,h6,Nf3,Bd6,Nc3,O-O,h3,f5,O-O,Bb7,Bd2,c5,a3,Nxc3,Bxc3,Nc6,Nd2,Qg5,Nc4,Nd4,f3,Bc7,Rf2,e4,dxe4,Qg3,e5,Ne6,Nd6,Nf4,Nxb7', 'Nxh3+,Kh1,Nxf2+', 'https://lichess.org/training/XXAzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xxbKj', 'Blitz', 'pjotrskolasa', 2397, 'FM Jossbros', 2396, 'Nf3,d6,c4,e5,Nc3,f5,e4,g6,d4,Nc6,d5,Nce7,Bd3,Nf6,Bg5,Bg7,Qd2,h6,Bxf6,Bxf6,h4,f4,h5,g5,O-O-O,g4,Nh4,Bg5,f3,c6,Kb1,cxd5,exd5,O-O,Ng6,Nxg6,hxg6,Qf6,Ne4,Qxg6,Nxg5,Qxg5,Qc2,Bf5,Ka1,Bxd3,Qxd3,Kg7,g3,fxg3,fxg4,g2,Rhg1,Rf2,Qg3,Raf8,Rxg2,Rf1,Rg1,R1f3,Qe1,R8f4,Qb4,Rxg4,Rxg4,Qxg4,Qxd6,Rf6,Qe7+,Kg6,Re1,Qxc4,Rg1+,Kf5,Qd7+,Kf4,a3,Ke3,Qg7,Rf1+,Rxf1,Qxf1+,Ka2,Qc4+,Kb1,Qd3+,Kc1,Qd2+,Kb1,Qd3+,Ka2,Qc4+,b3,Qc2+,Ka1,Qxb3', 'Qg3+,Kd4,Qxb3', 'https://lichess.org/training/xxbKj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XxbQN', 'Blitz', 'vizen', 1683, 'caligula57', 2097, 'e4,Nc6,Nf3,e5,Bc4,Bc5,c3,Nf6,d4,exd4,e5,d5,Bb5,Ne4,cxd4,Bb6,Nbd2,O-O,Nxe4,dxe4,Ng5,Nxd4,Nxe4,Nxb5,O-O,Bf5,Ng3,Be6,Qh5,Nd4,Bh6,gxh6,Qxh6,Kh8,Nh5,Rg8,Rfd1,Qh4,g3,Qh3', 'Qf6+,Rg7,Qxg7#', 'https://lichess.org/training/XxbQN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXbYc', 'Rapid', 'iliasgr', 1673, 'Gfreeman1962', 1780, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,c6,Be2,Nf6,h3,O-O,Bg5,Bf5,Nh4,Bg6,Nxg6,fxg6,Bg4,Bc7,O-O,Qd6,g3,Nxg4,Qxg4,Nd7,Rae1,Nf6,Bxf6,Rxf6,Ne2,Raf8,Nf4,h5,Qg5,Bd8,Nxg6,Rxg6,Qxh5,Rh6,Qg4,Qf6,Re2,Rg6,Qd7,Qxd4,Kh2,Rgf6,f4,Qxb2,Kg1,Bb6+,Kh1,R6f7,Qe6,Kh8,c4,Qd4,cxd5,Qxd5+,Qxd5,cxd5,Rd1,d4,Re5,Rf5,Re7,Ra5,Rd2,Ra3,Kg2,d3,Rxb7,Re8,Kf3,Be3,Rd1,Rxa2,Rxd3,Bb6,g4,Rf2+,Kg3,Rf1,Rd5,Re3+,Kh4,Rxf4,Rh5+,Kg8,Rb8+,Kf7,Rb7+,Kg6,Rg5+,Kf6,Rbxg7,Re7', 'R5g6+,Ke5,Rxe7+', 'https://lichess.org/training/xXbYc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xxcvq', 'Blitz', 'MertesLarisa', 1955, 'shahta', 1985, 'e4,c5,Nf3,d6,Bc4,e6,O-O,a6,a4,b6,c3,Bb7,Re1,Nf6,Qc2,Nbd7,d4,Rc8,d5,exd5,exd5+,Be7,Bg5,O-O,Qd3,Rc7,Na3,Nxd5,Bxe7,Nxe7,Qxd6,Nf5,Qf4,g6,Rad1,Qc8,Ng5,h6,Nxf7,Rxf7,Bxf7+,Kxf7,g4,Nf6,gxf5,g5,Qc4+,Kg7,Qe6,Nh5,Qg6+,Kf8,Qxh5,Rf7,Qxh6+,Rg7,Qd6+,Kg8,Re7,Qxf5,Rxg7+,Kxg7,Qc7+,Kh6,Qxb7,Qg4+,Qg2,Qxd1+,Qf1,Qxa4,Nc2,Qg4+,Kh1,Qe4+,Kg1,Qxc2,Qxa6,Qxb2,Qd3,Qc1+,Kg2,Qf4,Qh3+,Kg6,Qd3+,Kh5', 'Qh7+,Kg4,h3#', 'https://lichess.org/training/Xxcvq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXCyD', 'Rapid', 'Vladik0016000', 1967, 'caldare', 1973, 'e4,c5,Nf3,Nc6,Bc4,d6,d4,cxd4,c3,Nf6,Qe2,Bg4,O-O,e6,Rd1,Be7,cxd4,d5,exd5,Nxd5,Bxd5,Qxd5,Nc3,Bxf3,gxf3,Qh5,Bf4,O-O,Qe4,Rfd8,Kh1,a6,Rd2,Bb4,Rg1,Qf5,a3,Bxc3,bxc3,Rd5,c4,Qxe4,fxe4,Rxd4,Rxd4,Nxd4,Be5,Nf3,Rxg7+,Kf8,Rxh7,Ke7,Bc3,Rc8,Kg2,Ng5,Bb4+,Kf6,Rh4,Rxc4', 'e5+,Kxe5,Rxc4', 'https://lichess.org/training/xXCyD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XXD5F', 'Rapid', 'lurtrester', 1934, 'BackslidingBishop', 1716, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,h3,Bd7,a4,e6,O-O,d5,exd5,exd5,Re1+,Be7,Qe2,a6,Bxc6,Bxc6,d4,Ne4,dxc5,Bxc5,Nxe4,dxe4,Ng5,O-O,Nxe4,Re8,Qc4,Qb6,Be3,Bxe3,Rxe3,Qxb2,Rae1,Bxe4,Rxe4,Rec8', 'Qxc8+,Rxc8,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/XXD5F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XXe29', 'Rapid', 'altaeb18', 1925, 'gMAKAVELI', 1944, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bc4,Nf6,Bxf7,Nxe4,O-O,Bd6,Nd2,Bf5,Nxe4,Bxe4,Bg5+,Kd7,Rfd1,Bxc2,Rd2,Raf8,Bh5,Bf5,f4,g6,Bf3,e4,Be2,h6,Bh4,Kc8,g4,Bxf4,Rd5,Be6,Ra5,Be3+,Kg2,b6,Re5,Bd7,Rd1,h5', 'Ba6+,Kb8,Rxd7', 'https://lichess.org/training/XXe29');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXfLX', 'Rapid', 'lvn2k', 1799, 'staring', 1909, 'e4,e5,Nf3,Nc6,Nc3,Nf6,a3,a5,d4,exd4,Nxd4,Bc5,Nf5,O-O,Bg5,h6,Bh4,d6,Qf3,g5', 'Nxh6+,Kg7,Bxg5', 'https://lichess.org/training/xXfLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xxg9a', 'Rapid', 'BenYona', 1873, 'Aflatoxin', 1859, 'e4,e5,Nf3,d6,d4,exd4,Bc4,Be7,e5,dxe5,Nxe5,Be6,Bxe6,fxe6,Qh5+,g6,Nxg6,Kd7,Nxh8,Nf6,Qb5+,Kc8,Nf7,Qg8,Ne5,Qxg2,Rf1,Qe4+,Qe2,Qd5,c4,dxc3,Nxc3,Bb4,Bd2,Bxc3,Bxc3,Ne4,Rg1,b6,Nd3,Nxc3,bxc3,Kb7,f3,Nc6,a3,Rf8,f4,Rd8,Ne5,Qa5,Nxc6,Qxc3+,Kf2,Rd2,Ne5,Rxe2+,Kxe2,Qc2+,Kf3,Qb3+,Kg4,h5+,Kg5,Qh3,Rh1', 'Qf5+,Kh4,Qxf4+,Kxh5,Qxe5+', 'https://lichess.org/training/Xxg9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XXGwT', 'Classical', 'offensive', 1941, 'nikosadallas', 1971, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nc3,Bb4,Qd3,Nf6,Nxc6,Qxe4+,Be3,Qxc6,Qd4,Nd5,Qe5+,Qe6,Qxg7,Rf8,Qd4,c5,Qd3,Nxe3,fxe3,Qe5,Be2,d5,O-O,c4,Qxh7,Bxc3,bxc3,Qxe3+,Rf2,Qxc3,Raf1,Be6,Bh5,O-O-O,Bxf7,Bxf7,Rxf7,Qe3+,Kh1,Rxf7,Qxf7,Qe4,Rb1,Rd7,Qf8+,Kc7,Qc5+,Kb8,Rf1,Re7,Qd6+,Kc8,h3,Re8,Qc5+,Kb8,Qd6+,Ka8,Rf8,a6,Rxe8+,Qxe8,Qxd5,Qe1+,Kh2,Qc3,Qc5,Qxc2,Qc8+,Ka7,Qc5+,Kb8,Qd6+,Kc8,Qc5+,Kd7,Qd4+,Kc6,Qf6+,Kd5,Qf3+,Kd4,Qf6+,Kd3,Qf5+,Kd2,Qf2+,Kc1,Qf1+,Kb2,h4,c3,h5,Qd2,Qf6,Kxa2,Qe6+,Kb1,Qb3+,Qb2,Qd1+,Ka2,Qa4+,Qa3,Qc2+,Ka1,Qd1+,Kb2,Qd4,b6,h6,Qc5', 'Qxc5,bxc5,h7,c2,h8=Q+', 'https://lichess.org/training/XXGwT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXH1O', 'Rapid', 'Falanga1', 1762, 'sunsinsight', 1797, 'e4,c5,f4,Nc6,Nf3,d6,h3,g6,c3,Bg7,d4,Qb6,d5,Nb4,cxb4,Qxb4+,Qd2,Qxe4+,Be2,Nf6,Nc3,Qf5,Kf1,O-O,Bd3,Qd7,Kf2,Re8,Re1,e6,Bb5,Qd8,Bxe8,Qxe8,dxe6,Bxe6,Qxd6,Rd8,Qxc5,Nh5,Ng5', 'Bd4+,Qxd4,Rxd4,Nxe6,fxe6', 'https://lichess.org/training/xXH1O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xxINr', 'Classical', 'drumy', 1915, 'Sidelines', 2091, 'd4,Nf6,c4,c5,d5,b5,b3,e6,dxe6,fxe6,Bg5,Be7,e3,Qa5+,Nd2,h6,Bxf6,Bxf6,Qh5+,Ke7,Qxc5+', 'd6,Qxb5,Qxb5,cxb5,Bxa1', 'https://lichess.org/training/xxINr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XxJVu', 'Classical', 'drawaccepted', 1895, 'SreehariS', 1867, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,d6,Bb3,Be6,Bxe6,fxe6,Bg5,h6,Bh4,Qd7,Re1,Rae8,d4,exd4,cxd4,Bb4,Nc3,e5,dxe5,Nxe5,Nxe5,Rxe5,Bg3,Bxc3,bxc3,Rxe4', 'Rxe4,Nxe4,Qd5+,Qf7,Qxe4', 'https://lichess.org/training/XxJVu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xxk2n', 'Classical', 'MICHIMALONCO', 1772, 'Trampolineiro', 1761, 'e4,c5,Nf3,g6,Bc4,Nc6,a3,Bg7,d3,Nf6,O-O,O-O,Nc3,d6,h3,Rb8,Bd2,Nd4,Re1,b5,Ba2,a5,Be3,Nd7,Ne2,Nxf3+,gxf3,Ne5,Nf4,g5,Nh5,Bxh3,Nxg7,Kxg7,Bxg5,Kh8,Kh2,Rg8,Rg1,Qf8,Kxh3', 'Rxg5,Rxg5,Qh6+,Kg2,Qxg5+', 'https://lichess.org/training/Xxk2n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xxKo8', 'Rapid', 'marius2161', 1774, 'chess_uNcertainty', 1800, 'd4,Nf6,c4,e6,Nc3,b6,e4,d5,e5,Nfd7,cxd5,exd5,Nf3,c5,Bd3,cxd4,Nxd4,Nxe5,Bb5+,Bd7,Qe2,a6,Bxd7+,Nxd7,f4,Bd6,fxe5,Nxe5,Nc6,Qc8,Nxe5,O-O,O-O,Re8,Qf3,Bxe5,Qxf7+,Kh8,Bd2,Qc5+,Kh1,Rf8,Qxd5,Qxd5,Nxd5,Rad8,Rxf8+,Rxf8,Nxb6,Bxb2,Rb1,Bd4,Nd5,h5,Bc3,Bc5,g3,Rf2,Rb7,Rf1+,Kg2,Rg1+,Kh3,Bf8,Ra7,Rd1,Nf4,Rc1,Be5,Rc5,Bd4,Ra5,Ne6,Kg8,Nxf8,Kxf8,Bxg7+,Kg8,Kh4,Rxa2,h3,Ra5,g4,hxg4,hxg4,Ra4,Kh5,Kh7,Bc3+,Kg8,g5,Ra3,Kg6,Rxc3', 'Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/xxKo8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xxlaE', 'Classical', 'Ch3cker', 1613, 'Branmiresp', 1631, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,O-O,d3,Ne7,Nxe5,d5,exd5,Nfxd5,Qf3,Nxc3,Bxf7+,Kh8,bxc3,Bd6,Qh5', 'Bxe5,Qxe5,Rxf7', 'https://lichess.org/training/xxlaE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xxlHw', 'Rapid', 'ValVSh', 2124, 'abba66', 2056, 'e4,g6,d4,Bg7,c4,c5,d5,d6,Nc3,Nf6,h3,O-O,Be3,Nbd7,Qd2,Qa5,Be2,Ne8,Nf3,a6,O-O,Bxc3,bxc3,b5,Bf4,f6,Be3,Ne5,Nxe5,fxe5,f4,exf4,Bxf4,Nf6,e5,Ne4,Qe3,Bf5,exd6,exd6,cxb5,axb5,c4,Rae8,Qc1,b4,Bf3,Qa6,Qb2,Nc3,Bh6,Rf7,a3,Qxc4,axb4,cxb4,Rfe1,Rfe7', 'Rxe7,Rxe7,Ra8+,Re8,Rxe8+', 'https://lichess.org/training/xxlHw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XXN1y', 'Blitz', 'todorov', 1836, 'eltonguedesjr', 1839, 'e4,g5,Bc4,Bg7,d4,h6,c3,c5,Qb3,e6,dxc5,Qc7,Be3,Nc6,f3,b6,cxb6,axb6,Qxb6,Qd6,Bc5,Qf4,Ne2,Qh4+,Bf2,Qh5,Bb5,Rb8,Qc5,Nge7,Bxc6,Nxc6,b4,Ba6,Nd4,Nxd4,Bxd4,Bxd4,Qxd4,O-O,a4,Qg6,b5,Bb7,Qxd7,Rfd8,Qc7,Bxe4,O-O,Bd3,Rd1,Rbc8,Qb7,Qf5,a5,Qc5+,Kh1,Qf2,Na3,Kg7,a6,Be2,Rg1,Rxc3,a7,Rxf3,a8=Q,Rxa8,Qxa8,h5,Nc2,h4,Ne1', 'Qxg1+,Kxg1,Rf1#', 'https://lichess.org/training/XXN1y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXnr4', 'Blitz', 'FM Albertstainit', 2463, 'FM DrBoki', 2397, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Nf3,d6,cxd4,Nc6,Bc4,dxe5,dxe5,Ndb4,Qxd8+,Nxd8,Na3,g6,O-O,Bg7,Rd1,O-O,Bf4,Bg4,Be2,Ne6,Bg3,Rfd8,h3,Bf5,Nb5,Bd3,Bxd3,Nxd3,Rd2,a6,Nc3,Rac8,Rad1,Nxb2,Rxb2,Rxc3,Rxd8+,Nxd8,Rd2,Ne6,Rd7,Rc7,Rxc7,Nxc7,Kf1,Kf8,Ke2,Ne6,Kd3,Ke8,Kc4,Kd7,Kd5,Nc7+,Kc5,Ne6+,Kb6,Kc8,Nd2,Bh6,Nc4,Nf4,Bxf4,Bxf4,g3,Bc1,a4,h5,Na5,Bb2,Nxb7,Bd4+,Nc5,Bxe5,Nxa6,Bd4+,Kc6,Bxf2,g4,hxg4,hxg4,f5,gxf5,gxf5,Nb4,f4,Nd5,Be3,Nxe7+,Kb8,Nd5,Ka7,Kb5,Bd2,Kc5', 'f3,Kc4,f2,Kd3,f1=Q+', 'https://lichess.org/training/xXnr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xxouo', 'Blitz', 'arosenil', 1701, 'StelarasPN', 1692, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,Bd6,Bg5,Qf5,Bd3,Qa5+,c3,h6,Be3,c5,a3,O-O,O-O,Nc6,b4,cxb4,axb4,Qc7,Qc2,Re8,Rfe1,e5,d5,Nd8,Be4,Bg4,Qb3,Bxf3,gxf3,Rc8,c4,a6,c5,Be7,d6,Bxd6,cxd6,Qxd6,Bc5,Qf6,Qe3,b6,Bxb6,Ne6,Rac1,Nf4,Rxc8', 'Qg5+,Kf1,Qg2#', 'https://lichess.org/training/xxouo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXoz7', 'Rapid', 'PawnsAreBrave', 1833, 'justiciero2004', 1848, 'd4,d5,c4,e6,Nc3,Bb4,Bf4,Nf6,Qa4+,Nc6,a3,Bxc3+,bxc3,Bd7,Qc2,dxc4,e4,O-O,Bxc4,Na5,Bd3,a6,Bg5,h6,Bh4,Qe8,Bxf6,gxf6,Nf3,Kg7,h4,b5,g4,Rc8,e5,fxe5,Nxe5,f6,Ng6,Rh8,Nxh8,Qxh8,h5,Bc6,Be4,Bd7,f4,Nc4,Qe2,Re8,a4,f5,gxf5,exf5,Qg2+,Kf8,Kf2,Rxe4,Rhg1,Ne3,Qg6,Nd5,Rae1,Nxc3,Rc1,b4,Qxa6,Qxd4+,Kg2,Qd2+,Kh1,Qxf4', 'Qf6+,Ke8,Rg8#', 'https://lichess.org/training/xXoz7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XxP2z', 'Rapid', 'madmusikus', 1937, 'EazyPizzy', 1994, 'g4,d5,Bg2,Bxg4,c4,c6,cxd5,cxd5,Nc3,e6,Qa4+,Qd7,Qxg4,Nf6,Qa4,Nc6,a3,a6,e3,b5,Qd1,Bd6,b4,Qc7,h4,Ne5,d4', 'Qxc3+,Bd2,Nd3+', 'https://lichess.org/training/XxP2z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXpJ8', 'Bullet', 'Andrey_SPb', 1541, 'mikmw', 1563, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,bxc6,Ba6,Be7,O-O,O-O,Re1,h6,Bf4,Re8,e5,dxe5,Bxe5,Nd5,Nxd5,cxd5,Qf3,c6,Bg3,Bf8,Rxe8,Qxe8,Kf1,Rb8,b3,Rb6,Bd3,Qd8,c4,dxc4,Bxc4,Be6,Bxe6,fxe6,Rd1,Qf6,h3,Qxf3,gxf3,a6,Bd6,Bxd6,Rxd6,Kf7,Ke2,Kf6,Ke3,Ke5,Rd7,g6,Rg7,Kf5,f4,g5,Rf7+,Kg6,Re7,c5,f3,gxf4+,Kxf4,Rb4+,Ke3,Rh4,Rxe6+,Kg5,Rxa6,Rxh3,Ra5,h5,Rxc5+,Kh4,Kf2,Rh2+,Kg1,Rxa2,Rc3,Kg3,b4', 'Ra1+,Rc1,Rxc1#', 'https://lichess.org/training/xXpJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXPrx', 'Rapid', 'Eve_future', 1845, 'shubhamsawang', 1770, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,a6,Nc3,d6,Be2,Nf6,O-O,Be7,Bg5,O-O,Re1,Nxd4,Qxd4,c5,Qd2,b5,a3,b4,axb4,cxb4,Nd5,Nxd5,Qxd5,Be6,Bxe7,Qxe7,Qd4,b3,Red1,bxc2,Rdc1,Rfc8,Bxa6,Rc5,b4,Rc6,b5,Rc4,Qd3,Qc7', 'b6,Qxb6,Bxc4,Rxa1,Rxa1', 'https://lichess.org/training/xXPrx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XxqvS', 'Blitz', 'Roman_Denisov', 1861, 'wickedburn', 1857, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nge7,Bb3,O-O,Nxe5,Nxe5,d4,Bd6,dxe5,Bxe5,f4,Bd6,Nc3,Bc5+,Kh1,d6,f5,Kh8,Qh5,f6,Rf3,Qe8', 'Qxh7+,Kxh7,Rh3+,Qh5,Rxh5#', 'https://lichess.org/training/XxqvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xxv2X', 'Rapid', 'kavo12', 1944, 'pavolvlkovic', 1937, 'Nf3,f5,g3,g6,Bg2,Bg7,Nc3,Nf6,b3,d6,Bb2,e5,d3,O-O,a3,a6,Ra2,Be6,Qa1,h6,O-O,c5,Nh4,g5,Nf3,Nc6,Nd2,Rb8,e4,f4,Nd5,Nd4,Qd1,Bg4', 'Nxf6+,Rxf6,Qxg4', 'https://lichess.org/training/Xxv2X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XXvfK', 'Classical', 'PauloSergio1970', 1707, 'EmersonBraga60', 1702, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,e5,Nf3,Bg4,d5,Bb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/XXvfK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XxVTb', 'Blitz', 'mcaaaa', 1646, 'Darren077', 1709, 'd4,c6,Nf3,d5,e3,Nf6,Bd3,Nbd7,O-O,c5,c3,e6,Qe2,c4,Bc2,Bd6,Nbd2,O-O,e4,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qh4,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/XxVTb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xxvUK', 'Rapid', 'Valeriy161', 1924, 'mateus__h', 1777, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Qc2,c5,e3,Nc6,Bd3,b6,Ne2,Bb7,O-O,Ne7,e4,Ng6,Bg5,h6,Bd2,d5,e5,Nd7,Bxg6,fxg6,Qxg6,Qh4,Qxe6+,Rf7,Qg6,Raf8,Be3,dxc4,g3,Qh3,Nf4,Rxf4,gxf4,cxd4,cxd4,c3,Qg3,Qf5,Rac1', 'Qe4,f3,Qxe3+', 'https://lichess.org/training/xxvUK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXW1D', 'Classical', 'Paky', 1770, 'ardaozkurt', 1804, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,c3,Qb6,b4,Be7,Be3,Qd8,Bc4,a6,O-O,Nc6,f4,d6,f5,e5,Nxc6,bxc6,Qg4,g6,fxg6', 'Bxg4,g7,Bf6', 'https://lichess.org/training/xXW1D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XxwOC', 'Rapid', 'abdullah_ali', 2052, 'Akkim', 2078, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bd6,O-O,O-O,c4,c6,Bxe4,dxe4,Ng5,f5,Qh5,h6,Nh3,Qe8,Qe2,Nd7,f4,Nf6,Nc3,Ng4,Be3,Nxe3,Qxe3,Qf7,b3,a6,d5,cxd5,Nxd5,Be6,Rad1,Rfd8,Kh1,Rac8,Nc3,Rd7,Na4,Rc6,c5,Bf8,Rxd7,Qxd7,a3,Qd5,b4,Be7,Nb6,Qa2,Rd1,Kf7,Ng1,a5,Ne2,axb4,axb4,Qc2,Qd2,Qxd2,Rxd2,g5,g3,Rc7,Nc3,Bf6,Nb5,Re7,Kg2,h5,Kf1,h4,Rd8,Re8', 'Nd6+,Kg6,Rxe8', 'https://lichess.org/training/XxwOC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XXxCu', 'Rapid', 'Chesspatzeruk-TWITCH', 2153, 'Lamro', 1917, 'e4,b6,g3,Bb7,Bg2,Nf6,Nc3,e6,Nge2,Bb4,O-O,O-O,a3,Be7,d4,c5,e5,Bxg2,exf6,Bxf1,fxe7,Qxe7,Kxf1,c4,Bf4,d5,Nb5,Rc8,Nbc3,Nc6,Be3,a6,a4,Nb4,Nf4,g6,Nh3,Kg7,Ne2,h6,Qd2,g5,f4,g4,Nf2,f5,c3,Nc6,Kg2,h5,h3,Rh8,Rh1,Na5,hxg4,hxg4,Nc1,Rxh1,Nxh1,Rh8,Nf2,Qe8,Qe1,Qxa4,Ne2,Qc2,Qd1,Qxb2,Qa4,Qxe2,Qd7+,Kf6,Qd6,Qf3+,Kg1,Qxg3+,Kf1,Rh2,Qe5+,Kf7,Qc7+,Kg6,Qe7,Rxf2+,Bxf2,Qxf4,Qxe6+,Kg5,Qg8+,Kf6,Qf8+,Ke6,Qe8+,Kf6,Qf8+,Ke6,Qe8+,Kd6', 'Qb8+,Kc6,Qxf4', 'https://lichess.org/training/XXxCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xxy0J', 'Blitz', 'Gregorio84', 1723, 'Pixie1com', 1719, 'd4,d5,Nf3,e6,Nc3,Nf6,e3,c5,Bd3,cxd4,Nxd4,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,Nc6,Nxc6,bxc6,Bxf6,Qxf6,c3,e5,Qc2,e4,Be2,Qg6,O-O-O,Rb8,f3,Qe6,fxe4,dxe4,Kb1,Bd7,h3,c5,Bg4,Ba4,Qxa4,Qb6,Qc2,c4,Rd4,Rfe8,Rxc4,Qxe3,Rc1,Qb6,Rf1,e3,Re1,Qb5,Be2,Qb6,Rh4,h6,g4,Qd6,g5,Qg3,Rg4,Qxe1+,Ka2,Qf2,gxh6,g6,Rxg6+,fxg6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/xxy0J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xXYB2', 'Rapid', 'Sehya', 1784, 'KostiaLavrinec', 1713, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,a6,Bxc6,bxc6,Nxe5,d6,Nxc6,Qd7,Nd4,Bb7,O-O,Kd8,d3,Kc8,b4,h5,Rb1,g5,b5,g4,b6,h4,bxc7,g3,h3,gxf2+,Rxf2,Nh5,Ba3,Ng3,Nf5,Nxf5,Rxf5,Bh6,Rh5,Be3+,Kh1,Rg8,Qf3,Rg3,Qf6', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/xXYB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xxyoj', 'Blitz', 'suspiciousplay', 1599, 'onurcanataol', 1613, 'e4,d5,e5,Nc6,d4,f6,f4,fxe5,fxe5,e6,Nf3,Be7,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,Bf4,g5,Be3,Qd7,a4,h6,c3,O-O-O,b4,b6,b5,Bb7,Qb3,a5,c4,dxc4,Qxc4,Bd5,Qc3,Kb7,Nbd2,Rc8,Nc4,Bb4,Qc2,Ne7,Bd2,Bxd2,Nfxd2,Nf5,Qc3,Bxc4,Nxc4,Qxd4+,Qxd4,Nxd4,Rf7,Nf5,Nd6+,Nxd6,exd6,Rhd8,d7,Rb8,Rd1,c5,bxc6+,Kxc6,Rc1+,Kd5,Rd1+,Kc5,Re7,Rb7,Rxe6,Rbxd7,Rc1+,Kb4', 'Rxb6+,Ka3,Ra1#', 'https://lichess.org/training/Xxyoj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XY0ma', 'Rapid', 'Kampfknoppers', 1834, 'DDamir', 1944, 'e4,c6,c4,d5,cxd5,cxd5,e5,Nc6,d4,Bf5,Nf3,Bg4,Be2,e6,a3,Qb6,O-O,Bxf3,Bxf3,Nxd4,Be3,Bc5,b4,Nxf3+,Qxf3,Bxe3,fxe3,Ne7,Qxf7+,Kd7,Qf3,Nf5,Re1,Rhf8,Qh3,h6,Nc3,Rac8,Na4,Qb5,Nc5+,Ke7,Qg4,b6,Nb7,g5,e4,dxe4,Qxe4,Qc6,Nd6,Nxd6,exd6+,Qxd6,Qh7+,Rf7,Qxh6,Qf4', 'Qxe6+,Kf8,Qxc8+', 'https://lichess.org/training/XY0ma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xy3hq', 'Rapid', 'straightup', 1789, 'Vedant1997', 1715, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Ne4,Bd5,dxc3,Bxe4,cxb2,Bxb2,O-O,O-O,d6,exd6,Bxd6,Nd4,Qh4,g3,Qxe4,Nxc6,Bh3,f3,Bc5+,Bd4,Bxd4+,Nxd4,Qe3+,Kh1,Rad8,Nc2,Rxd1,Nxe3,Rxf1+,Nxf1,Bxf1,Kg1,Ba6,Nc3,h6,Re1,Rd8,Re7,c6,Na4,Rd1+,Kg2,Rd2+,Kh3,Rxa2,Nc5,b5,Rxa7,b4,Rxa6', 'Rxa6,Nxa6,b3,Nc5,b2', 'https://lichess.org/training/xy3hq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xy5dU', 'Rapid', 'Roven1976', 1626, 'faij', 1790, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Nc3,Qd8,d5,Bxf3,gxf3,Nb4,a3,Na6,Bb5+,c6,dxc6,Qxd1+,Nxd1,O-O-O,Be3,bxc6,Bxa6+,Kc7,O-O,Nf6,Nc3,e6,Bf4+,Bd6,Bg5,h6,Bxf6,gxf6,Ne4,Be5,c3,Rhg8+,Kh1,f5,Nc5,Rg5,Rg1,Rh5,Rg2,Kb6,b4,Bxc3,Rc1,Bd4,Be2,Rg5,Rcg1,Rxg2,Rxg2,Bb2,a4,Bf6,a5+,Kc7,Na6+,Kb7,Nc5+,Kc7,f4,Rd2,Bh5,Bd4,Bxf7,Bxf2,Rxf2,Rxf2,Bxe6,Rxf4,Na6+,Kd6,Bc8,Rh4,Bxf5,Rf4,Bd3,h5,Kg2,h4,h3,Rd4,Nc5,Rxb4,Ne4+,Kd5,Nf6+,Kd4,Be4,Rb2+,Kf3,Rb3+,Kg4,Ra3,Kxh4,Rxa5,Bxc6', 'Ra6,Bd7,Rxf6', 'https://lichess.org/training/xy5dU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xy6XX', 'Rapid', 'nieznajomy22', 1791, 'PavelMoroz73', 1609, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,h3,Bxf3,Qxf3,e6,Nc3,Nf6,Bb5+,Nc6,O-O,a6,Bxc6+,bxc6,a3,Be7,Ne2,O-O,Ng3,Rb8,b4,a5,c3,axb4,axb4,Ra8,Bf4,Bd6', 'Rxa8,Qxa8,Bxd6', 'https://lichess.org/training/xy6XX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xy8f3', 'Blitz', 'MrMysterious_kitty', 2041, 'piyoko', 2075, 'Nf3,c6,d4,d5,g3,Bf5,Bg2,e6,O-O,Nd7,Nh4,Bg6,Nxg6,hxg6,e4,Ne7,c4,dxe4,Bxe4,Nb6,b3,Nf5,Bb2,Be7,d5,cxd5,Bxf5,gxf5,cxd5,Nxd5,Bxg7,Rh7,Be5,Bb4,a3,Ba5,b4,Bb6,Qe2,Qg5,Qb5+,Ke7,Nc3,Ne3,fxe3,Qxe3+,Kg2,a6,Bd6+,Kf6,Nd5+,exd5,Qxd5,Rxh2+,Kxh2,Rh8+,Kg2', 'Qe2+,Rf2,Qxf2#', 'https://lichess.org/training/Xy8f3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xy9io', 'Rapid', 'bhirghu', 1925, 'Maxmonti', 1877, 'e4,c6,d4,d5,f3,dxe4,fxe4,Nf6,e5,Nd5,Nf3,Bg4,Be2,e6,O-O,c5,Ng5,Bxe2,Qxe2,cxd4,Nxf7,Qb6,Nxh8', 'd3+,Qf2,Bc5,Qxc5,Qxc5+', 'https://lichess.org/training/xy9io');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xYAKi', 'Classical', 'freehumanity', 2182, 'TheChesshireCat', 2041, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Nc6,Ndf3,Be7,Bd3,a6,Ne2,b5,O-O,f6,exf6,Nxf6,Ne5,Qb6,Nxc6,Qxc6,Ng3,O-O,Be3,Bd7,Nh5,Be8,Nxf6+,Rxf6,Qg4,Bg6,Bxg6,Rxg6,Qh3,c4,f5,exf5,Rxf5,Qe6,Re1,Rf8,Rxf8+,Bxf8,Qf3,Rf6,Qd1,Qf5,Qd2,Bd6,Bg5,Re6,Rf1', 'Bxh2+,Kxh2,Qxf1', 'https://lichess.org/training/xYAKi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XyBCG', 'Rapid', 'Olvideoliver', 2140, 'Arsd', 2038, 'e4,d5,exd5,Qxd5,c4,Qd6,d4,c6,g3,Nf6,Nc3,Bf5,Nf3,e6,Bf4,Qb4,Qd2,Nbd7,Bg2,Be7,O-O,O-O,a3,Qa5,Nd5,Qd8,Nxe7+,Qxe7,Nh4,Bg4,c5,Nd5,Bd6,Qf6,Bxf8,Kxf8,f3,Bh5,g4,Bg6,Nxg6+,hxg6,Rae1,Nf4,Re4,g5,Rfe1,Ke7,Qb4,Rh8,Qxb7,Nxg2,Kxg2,Qh6,Qc7,Qh3+,Kf2,Rh6,Rg1,Rf6,Qg3,Qh7,Ke3,Qh8,Rg2,Qc8,Qd6+,Ke8,Rg3', 'e5,dxe5,Rxd6,exd6+,Kf8', 'https://lichess.org/training/XyBCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XycP4', 'Blitz', 'lastpostal', 1998, 'Tibeu', 1959, 'e4,c5,Nf3,d6,c3,Nf6,e5,dxe5,Nxe5,e6,Bb5+,Nbd7,O-O,a6,Nxd7,Nxd7,Ba4,Bd6,d4,O-O,Be3,b5,Bc2,c4,Qh5,g6,Qf3,Rb8,Nd2,Bb7,Qh3,e5,Ne4,exd4,Bxd4,Be5,Rad1,Qc7,Ng5,h5,Rfe1,Bxd4,Rxd4,Nf6,Red1,Rbd8,Qe3,Ng4,Qg3,Rxd4,Rxd4,Qe7,Nf3,Bxf3,gxf3,Qe1+,Kg2,Ne3+', 'fxe3,Qe2+,Qf2,Qxf2+,Kxf2', 'https://lichess.org/training/XycP4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xycU9', 'Rapid', 'fayca', 1626, 'victor34110', 1614, 'b3,e5,Bb2,Nc6,Nf3,Nf6,Nxe5,Nxe5,Bxe5,Bc5,e3,d6,Bb2,O-O,Be2,Bf5,d4,Bb4+,c3,Ba5,O-O,Qe7,b4,Bb6,c4,a6,c5,dxc5,bxc5,Ba7,Qb3,Be6,Qxb7,Rfb8,Qxa6,Rxb2,Nc3,Qd8,Rab1,Bxc5,Qc6,Rxb1,Rxb1,Bd6,Rb7,Bd5,Nxd5,Nxd5,Qxd5', 'Bxh2+,Kxh2,Qxd5', 'https://lichess.org/training/xycU9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XydDK', 'Rapid', 'ahmetyldz', 2028, 'ANTEPliyiz', 1983, 'd4,e5,d5,d6,c4,Nf6,Nc3,Be7,e4,Bd7,f4,exf4,Bxf4,O-O,Nf3,Re8,Bd3,Bf8,Bg5,h6,Bh4,Be7,O-O,Nxd5,exd5,Bxh4,Nxh4,Qxh4,Qf3,f6,Ne4,Qg4,Nxf6+,gxf6,Qxf6,Qg7,Qf4,Rf8', 'Bh7+,Kxh7,Qxf8,Qxf8,Rxf8', 'https://lichess.org/training/XydDK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XYDTX', 'Classical', 'Siddharth1212008', 1957, 'stweisz', 1939, 'e4,d5,Nf3,dxe4,Ng5,Nf6,d3,Bg4,f3,exf3,Nxf3,Nc6,Be2,e6,O-O,Bd6,Bg5,O-O,Nc3,Be7,Nh4,Bxe2,Qxe2,Qd4+,Kh1,a6,Ne4,Nxe4,Bxe7,Nxe7,Qxe4,Qxe4,dxe4,Rad8,Kg1,Rd2,Rac1,Rfd8,Nf3,R2d6,Ng5,h6', 'Nxf7,Rc8,Nxd6', 'https://lichess.org/training/XYDTX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XyFoY', 'Blitz', 'Slasker', 1799, 'tioemo2', 2208, 'e4,c5,c3,d5,d4,dxe4,Bc4,cxd4,cxd4,Nf6,Nc3,e6,Bf4,Nc6,Nge2,a6,O-O,Bd6,Be3,b5,Bb3,b4,Na4,Qc7,h3,Na5,Rc1,Qd8,Nc5,O-O,Ba4,Bxc5,Rxc5,Bb7,Bg5,Bd5,Bxf6,gxf6,b3,Nb7,Rc1,Qd6,Qd2,Kg7,Nf4,Qe7,Qe3,Kh8,Rc2,Nd6,Rfc1,Rac8,Rxc8,Rxc8,Rxc8+,Nxc8,Qg3,Nd6,Nh5,Nf5', 'Qb8+,Qf8,Qxf8#', 'https://lichess.org/training/XyFoY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xyG93', 'Classical', 'JMcA', 1876, 'Ahmadolabi', 1728, 'e4,c6,d4,d5,Nc3,e6,f4,Bb4,e5,Qh4+,g3,Qe7,Nf3,Bxc3+,bxc3,c5,a4,Qc7,Be3,Qa5,Bd2,c4,Bg2,Ne7,O-O,O-O,Qb1,Nbc6,Bc1,Qxc3', 'Bd2,Qxd2,Nxd2', 'https://lichess.org/training/xyG93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XYgAZ', 'Rapid', 'sinm', 1714, 'Shomy019', 1723, 'd4,d5,e4,dxe4,Nc3,f5,Be3,Nf6,f3,exf3,Nxf3,Nc6,Bb5,Bd7,O-O,a6,Bc4,e6,Bg5,Be7,Qe1,h6,Bxf6,Bxf6,Bxe6,Bxe6,Qxe6+,Qe7,Qc4,O-O-O,Nd5,Qe6', 'Nb6+,cxb6,Qxe6+', 'https://lichess.org/training/XYgAZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xyi9t', 'Rapid', 'supertony', 2035, 'Alcatraz20', 1988, 'e4,e5,Bc4,Nc6,c3,Nf6,d3,d6,f4,Bg4,Nf3,Qe7,O-O,O-O-O,b4,d5,exd5,Nxd5,fxe5,Nxe5,Qb3,c6,Nxe5,Qxe5,Bxd5,Rxd5,d4,Qe4,Na3,g6,Bd2,Bg7,Rxf7', 'Bxd4+,cxd4,Qxd4+', 'https://lichess.org/training/Xyi9t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XYJst', 'Rapid', 'capoflash', 1705, 'Artsk757', 1968, 'e4,Nf6,e5,Nd5,Bc4,Nb6,Bxf7+,Kxf7,Qf3+,Kg8,Qb3+,e6,Nf3,d6,d4,Nc6,Bg5,Be7,Qe3,Nd5,Qd2,dxe5,Nxe5,Nxe5,Bxe7,Qxe7,dxe5,Qb4,Nc3,Nxc3,bxc3,Qe4+,Qe2,Qxe2+,Kxe2,b6,Rhd1,Bb7,g3,Bc6,f4,Kf7,Rd2,Rhd8,Rd3,Rxd3,cxd3,Rd8,d4,Bd5,a4,Bc4+,Ke3,c5,Rd1,cxd4+,cxd4,h6,Rc1,Bb3,Rc7+,Kg6,Rxa7,Rb8,Re7,Bxa4,Rxe6+,Kf7,Rd6,b5,e6+,Ke7,Ra6,Bb3,f5,b4,Ra7+,Kf6,Kf4,Rf8,g4,Bc2,h4,b3', 'g5+,hxg5+,hxg5#', 'https://lichess.org/training/XYJst');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XYKSR', 'Classical', 'jahziel', 1671, 'Sem_Kuk', 1647, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Be3,Nbd7,Qd2,e5,Bh6,exd4,Nxd4,c5,Ndb5,Bxh6,Qxh6,Ne5,Be2,a6,Na3,Nfg4,Bxg4,Nxg4,Qd2,Be6,Rd1,Ne5,Nd5,f5,Nf4,Bxc4', 'Nxc4,Nxc4,Qd5+,Rf7,Qxc4', 'https://lichess.org/training/XYKSR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xYmFb', 'Rapid', 'B52-Omega', 1783, 'RSdC', 1735, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nc6,Nc3,Qe6,O-O,O-O-O,Re1,Qg6,d3,h6,Bf4,Nf6,Qc1,Nd5,Nxd5,Rxd5,c4,Rf5,Nh4,Qh5,Bxg4,Qxg4,Nxf5,Qxf5,Qe3,g5,Bg3,Bg7,Re2,h5,f3', 'Bd4,Bf2,Bxe3', 'https://lichess.org/training/xYmFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xymk4', 'Blitz', 'Vlad_Drakula', 2461, 'IM toivok', 2487, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,cxd4,Nxd4,Bc5,Qd2,O-O,O-O-O,a6,h4,Nxd4,Bxd4,b5,Bxc5,Nxc5,Qd4,Qc7,h5,Bb7,g4,Rac8,Bd3,Rfd8,g5,Ne4,g6,fxg6,hxg6,hxg6,Bxe4,dxe4,Qb4,e3,Rhe1,Rxd1+,Rxd1,Qc4,Qe7,Qxf4,Qxe6+,Qf7', 'Qxf7+,Kxf7,Rd7+,Ke6,Rxb7', 'https://lichess.org/training/xymk4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xYMsE', 'Classical', 'JoseZavala', 1886, 'axel_blaze2', 2001, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,d4,exd4,Nxd4,O-O,O-O,Na5,Bd3,d5,exd5,Nxd5,Nxd5,Qxd5,Nb3,Nxb3', 'Bxh7+,Kxh7,Qxd5', 'https://lichess.org/training/xYMsE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xYOBt', 'Blitz', 'Kazakg_Fighter', 2262, 'IM Funo09', 2739, 'e4,Nf6,e5,Nd5,d4,Nb6,Nf3,d5,exd6,cxd6,Bd3,g6,O-O,Bg7,c4,O-O,Nc3,Bg4,Be3,Nc6,h3,Bxf3,Qxf3,Nxd4,Qxb7,Rb8,Qxa7,Nc6,Qa6', 'Nb4,Qa3,Nxd3', 'https://lichess.org/training/xYOBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xYpwK', 'Rapid', 'Doovad', 1746, 'boudoir', 1793, 'd4,e6,c4,d5,e3,Nf6,Nc3,Nbd7,cxd5,exd5,Nf3,c6,Bd3,Bd6,b3,O-O,O-O,Qc7,Qc2,Re8,a4,a5,Ba3,b6,Bxd6,Qxd6,Rfe1,Ba6,Ne2,Bxd3,Qxd3,Ne4,Rec1,c5,Nc3,cxd4,Nxd4,Ndc5,Qb5,Rac8,Nxe4,dxe4,b4,Nd3,Rxc8,Rxc8,bxa5,bxa5,Rb1,Qb4,Qxb4,axb4,Kf1,Rc1+', 'Rxc1,Nxc1,a5', 'https://lichess.org/training/xYpwK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XyQwf', 'Rapid', 'panzer_tn', 1718, 'pipe-2000', 1721, 'e4,c5,Nc3,e6,Nf3,a6,d4,cxd4,Nxd4,Qc7,Be3,Nf6,Bd3,Bb4,Bd2,O-O,O-O,Bxc3,Bxc3,b5,Qf3,Bb7,Ne2,e5,Ng3,d6,Nf5,Nbd7,Qg3,g6,Ne7+,Kh8,f4,Nxe4,Bxe4,Bxe4,fxe5,dxe5,Rfe1,Qc5+,Kh1,f5,Nxg6+,hxg6,Qxg6,Qc6,Qg3,Rae8,Rad1,Rf7,Qh4+,Rh7,Qg3,f4,Qg5,Rg7', 'Qh5+,Kg8,Qxe8+', 'https://lichess.org/training/XyQwf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xyrjf', 'Rapid', 'syd79', 1736, 'dark-888', 1855, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,a3,Nf5,b4,cxd4,cxd4,a6,Be2,Qb6,Bb2,Be7,O-O,O-O,Nc3,Qa7,Na4,b5,Nc5,f6,Rc1,Rb8,Nxe6,Bxe6,Rxc6,Bd7,Rc2,a5,Qd2,axb4,axb4,Qa4,Bc3,Rbc8,Ra1,Qb3,Rb2', 'Qxc3,Qxc3,Rxc3', 'https://lichess.org/training/Xyrjf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XYs4i', 'Blitz', 'beaver02rus', 1682, 'anandhu181', 1894, 'e4,e5,Nf3,d6,Nc3,f5,exf5,Bxf5,Bc4,Nf6,d3,Be7,Bg5,c6,Nh4,Bd7,Bxf6,Bxf6,Qh5+,g6,Nxg6,hxg6', 'Qxg6+,Ke7,Qf7#', 'https://lichess.org/training/XYs4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xyS6d', 'Rapid', 'daniligeo123', 1657, 'kad2016', 1675, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,O-O,Bg4,h3,Bh5,d4,exd4,Qxd4,Nc6,Qd1,Ne5,Nxe5,Bxd1,Bxf7+,Ke7,Rxd1,Qc8,Nd5+,Nxd5,Bxd5,dxe5,f4,c6,Bc4,exf4,Bxf4,Kf6,e5+,Kf5,Rf1,Bc5+', 'Be3+,Kxe5,Bxc5', 'https://lichess.org/training/xyS6d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XysRJ', 'Rapid', 'Antei97', 1757, 'Mustafa2312994', 1791, 'd4,d6,c4,Nf6,Nc3,g6,Bg5,Bg7,e4,h6,Bh4,O-O,Nge2,e5,d5,Na6,a3,Nc5,Qc2,Qe8,b4,Ncd7,h3,a5,Ra2,b6,Bxf6,Nxf6,Ng3,Nh5,Nxh5,gxh5,Be2,f5,O-O,f4,Bf3,Rf6,Qe2,axb4,axb4,Rxa2,Qxa2,Qg6,Qe2,Bxh3,Kh2,Bd7,Bxh5,Qg5,Rh1,Kh7,Kg1,Rf8,Qf3,Rg8,b5,Bf6,Ne2,Bg4,Bxg4,Qxg4,Qxg4,Rxg4,f3,Rg8,Kf1,Ra8,Kf2,Ra4,Rc1,Bh4+,Kg1,Ra2,Nc3,Ra3,Ne2,Ra4,Kh2,Bg5,Rc2,Kg6,g3,fxg3+,Nxg3,Bf4,Kg2,h5,Nf5,Kg5,Kh3,Ra3,Nh4,Be3,Rg2+,Kf4,Rg7,Ra2,Rf7+,Kg5,Rf5+,Kh6,Rf6+,Kh7,Rf7+,Kg8,Rxc7,Rc2,Nf5,Bc5,Nh6+,Kf8,Rf7+,Ke8,Rc7,Rxc4,Kg3', 'Bf2+,Kxf2,Rxc7', 'https://lichess.org/training/XysRJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xYsTU', 'Rapid', 'DmVl', 1702, 'GeeEllAechEff', 1627, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d4,Bb4+,Bd2,Bxd2+,Qxd2,Qe7,Be2,Bxc4,Qc2,Ba6,Nc3,Nc6,Nf3,O-O-O,O-O,Nxd4,Nxd4,Rxd4,Bxa6,bxa6,Qf5+,Qd7,Qc5,Kb8,Rad1,Rxd1,Rxd1,Qe6,Qa5,Qb6,Qa4,Re8,h3,Re7,b4,Ne4,Nxe4,Rxe4,a3,a5,Qd7,Qe6,Qb5+,Qb6', 'Rd8+,Kb7,Qd5+,Qc6,Rb8+,Kxb8,Qxc6', 'https://lichess.org/training/xYsTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xYt0e', 'Blitz', 'kaneisgr', 1806, 'BND', 2041, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,Bxd5,cxd5,d4,Bd6,Re1,Qh4,g3,Qh3,Qf3,Be6,Bf4,Bg4,Qg2,Bxf4,Qxh3,Bxh3,gxf4,Rfe8,Nd2,Re6,Rxe6,fxe6,Nf3,Rf8,Ng5,Bf5,Re1,h6,Nxe6', 'Re8,Re5,Bxe6', 'https://lichess.org/training/xYt0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XYVjc', 'Classical', 'Diman009', 1799, 'Dietryh', 1749, 'e4,c5,Nf3,d6,c3,Nf6,Be2,g6,O-O,Bg7,a3,O-O,Qc2,b6,d4,cxd4,cxd4,Ba6,Bxa6,Nxa6,Nc3,Rc8,b4,Nb8,Bb2,a6,Nh4,d5,e5,Nh5,Qd2,e6,Nf3,Bh8,g4,Ng7,Qh6,f6,exf6,Qxf6,Ng5,Rfe8,Qxh7+,Kf8,Qxh8+,Ke7,Nxd5+,exd5,Rae1+,Kd7,Rxe8,Rxe8,Qh4,Nc6,Bc1,Nxd4,Qg3,Nge6,Nxe6', 'Ne2+,Kg2,Nxg3', 'https://lichess.org/training/XYVjc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xyVtB', 'Blitz', 'Augusto-111', 1599, 'Hxllxqxxn', 1641, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,e5,Nd5,Nxd5,exd5,Be7,c4,O-O,d3,Bd7,Nh3,b5,b3,bxc4,bxc4,Na6,O-O,Rb8,f4,Bf6,f5,e4,dxe4,Bxa1,g4,Bf6,g5,Bd4+,Kh1,Nb4,f6,g6,Qe1,Kh8,Qh4,Rg8,Qh6,Nd3,Nf4,Nxf4,Rxf4,Rb1', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/xyVtB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XyWqp', 'Rapid', 'Keertikaa', 1637, 'IshanAnand', 1635, 'Nf3,d5,e4,dxe4,Ng5,Nf6,d3,exd3,Bxd3,g6,Bc4,e6', 'Qxd8+,Kxd8,Nxf7+', 'https://lichess.org/training/XyWqp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZ4N5', 'Classical', 'peed', 1730, 'Mikoky', 1759, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,h3,Be7,d4,Bd7,d5,Nb8,a4,O-O,O-O,a6,Bc4,c6,a5,cxd5,Nxd5,Nxd5,Bxd5,Bc6,c4,Bxd5,cxd5,Qc7,Be3,Rc8,Bb6,Qc4,Re1,Nd7,Rc1,Qb5,Bc7,Nc5,Bb6,Nb3,Rc7,Rxc7,Bxc7,Rc8,Re3,Nxa5,Bxa5,Qxa5,Ra3,Qc5', 'Rc3,Qxc3,bxc3', 'https://lichess.org/training/XZ4N5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZ5To', 'Rapid', 'mmaziar2134', 1834, 'Herzog_Beauregard', 1945, 'e4,e6,d4,d5,exd5,exd5,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nf6,Bd3,O-O,Ne2,Bg4,h3,Bh5,g4,Bg6,Bxg6,hxg6,O-O,Nbd7,Ng3,c6,Bd2,Qc7,c3,Rfe8,Re1,Rxe1+,Bxe1,Re8,Qf3,Ne4,Nxe4,Rxe4,Bd2,Nf6,Re1,Qe7,Rxe4,Qxe4,Qxe4,Nxe4,Be3,f5,Kg2,Kf7,g5,Ke6,f3,Nd6,Kg3,b6,a4,c5,b3,a6', 'dxc5,bxc5,Bxc5', 'https://lichess.org/training/XZ5To');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Xz6NL', 'Rapid', 'Kolya259', 1928, 'Andrew-dolphin', 1754, 'd4,Nf6,Nf3,d5,Bf4,Bf5,e3,e6,Nbd2,c5,c3,cxd4,exd4,Nc6,Ne5,Nxe5,Bxe5,Bd6,Bb5+,Ke7,f4,Bxe5,fxe5,Nd7,Qa4,a6,Qa3+,Ke8,Be2,Qe7,Qb3,b5,O-O,Nb6,c4,dxc4,Nxc4,Nxc4,Bxc4,bxc4,Qxc4,Qd7,Rac1,Qb5,Qc7,Qd7,Qc5,Qd5', 'Qxd5,exd5,Rxf5', 'https://lichess.org/training/Xz6NL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZ7ru', 'Rapid', 'Tunisie-Sousse2016', 1890, 'kang-adi', 1858, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,c3,Nxe4,d4,exd4,cxd4,Be7,Re1,Nf6,Qe2,a6,Bxc6,dxc6,Nc3,Be6,Ng5,Qxd4,Nxe6,fxe6,Qxe6,Qd6,Qe2,Kf7,Bf4,Qxf4,Qxe7+,Kg6,g3,Qd6,Qe2,Rae8,Qc2+,Kf7,Qb3+,Nd5,Nxd5,cxd5,Qxb7,Rb8,Qa7,Rxb2,Qe3,d4', 'Qf3+,Qf6,Qd5+', 'https://lichess.org/training/XZ7ru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xz7t6', 'Rapid', 'troughremembrance', 1746, 'igu0', 1704, 'e4,e5,f4,Qh4+,g3,Qe7,f5,d5,d3,dxe4,dxe4,Nc6,Nf3,Bd7,Nc3,O-O-O,Nd5,Qc5,Be3,Qa5+,Nc3,Bxf5,Bd3,Bxe4,Qe2,Bxd3,cxd3,Bb4,O-O,Bxc3,bxc3,Qxc3,Rac1,Qa3,Rxc6,bxc6,Nxe5,Nh6,d4,f6,Nxc6,Rde8,Re1,Nf5,Qg4,g6,Kf2,Qxa2+,Re2,Qa6,d5,Kb7,Rb2+,Ka8,Bxa7,Ne3,Bxe3,Rxe3,Kxe3,Qa3+,Kf2,Qxb2+,Kg1,Qc1+,Kg2,Qd2+,Kh3,Qxd5,Qa4+,Kb7,Nb4,Ra8', 'Qxa8+,Kxa8,Nxd5', 'https://lichess.org/training/xz7t6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xz95A', 'Classical', 'Nurkecebadai98', 1922, 'Luba67', 1972, 'e4,c5,g3,Nc6,Bg2,d6,h3,Nf6,Ne2,e5,O-O,Be7,f4,exf4,Nxf4,Bd7,Nc3,O-O,d3,Ne5,Bd2,Re8,Ncd5,Nxd5,Nxd5,Qc8,Qh5,Ng6,Bc3,Be6,Nf6+,gxf6,Rxf6,Qd8,Raf1,b5,Qh6,Bf8', 'Rxg6+,fxg6,Rxf8+,Rxf8,Qg7#', 'https://lichess.org/training/xz95A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZAwb', 'Blitz', 'Nico308', 1585, 'Aladexy', 1595, 'e4,e6,e5,b6,f3,Bb7,b3,d6,exd6,Bxd6,Bb2,Bf8,Nh3,h6,Nf4,Nf6,Qe2,Be7,a4,O-O,Nc3,Bd6,Nd3,c6,O-O-O,Ba6,Qf2,Qc7,h4,b5,g4,b4,Na2,c5,g5,hxg5,hxg5,Nh7,Qh4,Re8,Qxh7+,Kf8,Bxg7+,Ke7,Bf6+,Kd7,Qxf7+,Kc6,Ne5+,Bxe5,Qxe8+,Qd7,Bb5+,Bxb5,axb5+,Kxb5,Qh8,Bxf6,Qxf6,Nc6,c4+,Kb6,Qb2,Nd4,Rhf1,a5,f4,a4,bxa4,Rxa4,Nc3,Ra3,Ne4,Rb3,Qa1,Ra3,Qb2,Nb3+,Kb1,Ra1+,Kc2,Ra3,Qe5,Nd4+,Kb2', 'Rb3+,Kc1,Ne2+,Kc2,Qd3#', 'https://lichess.org/training/XZAwb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZbjz', 'Classical', 'jippiedoe', 1626, 'trashcan', 1684, 'd4,d5,Bf4,Nf6,e3,Nc6,c3,Bf5,Nd2,e6,Ngf3,Nh5,Bg5,f6,Bh4,Bg4,Be2,g5,Bg3,Nxg3,hxg3,h5,Nh2,Bxe2,Qxe2,f5,Nhf3,g4,Ne5,Nxe5,dxe5,Qg5,f4,Qg7,Nb3,O-O-O,Nd4,c5,Nxe6,Qd7,Nxd8,Qxd8,Rd1,Be7,Kf2,h4,gxh4,Bxh4+,g3,Be7,Rxh8,Qxh8,Rxd5,Qh2+,Kf1,Qxg3,Qf2,Qh3+,Ke2,g3,Qf3,Qh2+,Ke1', 'g2,Qxg2,Qxg2', 'https://lichess.org/training/xZbjz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xzBpm', 'Rapid', 'spirossss', 2326, 'Enejo', 2156, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,d6,Nge2,Be7,a3,a6,O-O,O-O,f4,b5,Ba2,Rb8,Nd5,Nxd5,Bxd5,Na5,b4,c6,Ba2,Nb7,fxe5,dxe5,Ng3', 'Qd4+,Be3,Qxe3+', 'https://lichess.org/training/xzBpm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XzbZB', 'Rapid', 'Hagard', 2052, 'gerardt', 1941, 'd4,e5,d5,Bc5,c4,d6,Nc3,Nf6,e4,O-O,Bd3,Ng4,Nh3,f5,exf5,Bxf5,Bxf5,Nxf2,Nxf2,Bxf2+,Kxf2,Rxf5+,Kg1,Qh4,Qe2,Nd7,Be3,Raf8,g3,Qh3,Qg2,Qg4,h3,Qxc4,Kh2,Nc5,Bxc5,Qxc5,Rhf1', 'Rf2,Rxf2,Rxf2', 'https://lichess.org/training/XzbZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xzCEU', 'Rapid', 'krunch6', 1780, 'Docfire2', 1789, 'd4,e6,Nc3,Bb4,Bf4,Bxc3+,bxc3,Nf6,e3,Ne4,c4,Qe7,Qg4,Qb4+,Ke2,f5,Qxg7', 'Qd2+,Kf3,Qxf2#', 'https://lichess.org/training/xzCEU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xzdL6', 'Rapid', 'BewareIllEatYou', 1736, 'tzagi', 1715, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Nc3,Bg4,O-O,Nxd4,Be2,Nf6,Na4,Ne6,Nxb6,axb6,h3,Bh5,Be3,Nxe4,Bb5+,c6,Be2,O-O,Qd3,f5,Nd2,Bxe2,Qxe2,f4,Nxe4,fxe3,Qxe3,d5,Nc3,Re8,Qd2,Qf6,Rfe1,Rad8,Na4,b5,Nc3,d4,Ne4,Qg6,b4,Rf8,a3,Nf4,Ng3,h5,Re4,h4,Rxf4,hxg3,fxg3,Qxg3,Rxf8+,Rxf8,Qxd4,Rf4,Qd2,Rc4,Qa2,Qe3+,Kh1,Kh7,Rf1,Rc1,Rxc1,Qxc1+,Kh2,Qf4+,Kh1,Qf1+,Kh2,Qc4,Qf2,Qb3,Qf5+,Kg8,Qc8+,Kh7,Qf5+,g6,Qd7+,Kh6,Qd2+,g5,Qd6+,Kh5', 'g4+,Kh4,Qh6#', 'https://lichess.org/training/xzdL6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZEdX', 'Blitz', 'kra22', 1577, 'Triva', 1767, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,O-O,Nf6,Re1,Be7,c3,O-O,d4,exd4,cxd4,Nbd7,Qb3,Nb6,Qxe6+,Kh8,e5,dxe5,Nxe5,Nbd5,Nf7+,Rxf7,Qxf7,Qd6,Nc3,Rf8,Qe6,Qf4,Nxd5,Qxd4,Nxe7,Ne8,Nf5,Nd6,Nxd6', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/XZEdX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xzeim', 'Rapid', 'Amanj28', 1814, 'bitter_end', 1827, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,c3,c5,f4,cxd4,cxd4,Nc6,Qc3,Rc8,a3,Qb6,Ne2,Nge7,Qd3,Nf5,Be3,Nxe3,Qxe3,Qxb2,Qc3,Qxc3+,Nbxc3,Be7,Kf2,O-O,Rhb1,Na5,Rb5,b6,a4,Nc4,Rbb1,Bh4+,g3,Be7,Ra2,a5,Kf3,Bb4,Nb5,Nd2+,Rxd2,Bxd2,Nd6,Rb8,Rb2,Bb4,Rc2,Bxd6,exd6,Rfd8,Rc6,b5,axb5,Rxb5,Nc3,Rb3,Kg2,h5,Na4,Rb4,Nc5,Rxd4,d7,Rc4', 'Rc8,Rxc8,dxc8=Q+', 'https://lichess.org/training/xzeim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZgfe', 'Rapid', 'ronin4745', 1611, 'lyuming', 1678, 'e4,c5,Nc3,Nc6,d3,e6,Be2,Nf6,Nf3,d6,O-O,Be7,e5,dxe5,Ne4,O-O,Be3,b6,a3,Nxe4,dxe4,Qxd1,Raxd1,Bf6,Rd6,Na5,b4,Nb7,Rdd1,cxb4,axb4,h6,Ra1,Nd6,Nd2,Bb7,f3,Rfc8,Ra2,Rc3,Bxb6', 'axb6,Rxa8+,Bxa8', 'https://lichess.org/training/xZgfe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZgpJ', 'Blitz', 'kingofblunder4545', 1615, 'Buslenak', 1629, 'e4,c5,Nf3,e6,c3,Qc7,d4,cxd4,cxd4,Nc6,a3,a6,Bd3,b5,O-O,Bb7,Nc3,Nge7,d5,Ne5,Nxe5,Qxe5,dxe6,dxe6,f4,Qd6,Be3,O-O-O,Rc1,Qxd3,Nxb5+,Kb8,Ba7+,Ka8,Qa4,axb5,Qa5,Nc6,Rxc6,Bxc6,Bb6+,Kb8', 'Qa7+,Kc8,Qc7#', 'https://lichess.org/training/xZgpJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZgpO', 'Rapid', 'XxxXABELXxxX', 1676, 'Lokeshhhhh', 1712, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,e3,c5,cxd5,cxd4,Nxd4,Nxd5,Nc3,Bxg5,Bd3,Nxc3,bxc3,Bd7,f4,Bf6,g4,Nc6,g5,Be7,h4,Nxd4,cxd4,Qa5+,Kf2,Bc6,Rh2,f6,Qc2,g6,h5,fxg5,hxg6,gxf4,g7,Rg8,Rxh7,O-O-O,exf4,Bf6,Be4,Bxd4+,Ke2,Bxa1,Bxc6,Qa6+', 'Bb5+,Kb8,Bxa6', 'https://lichess.org/training/XZgpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZgWF', 'Rapid', 'musemi', 1912, 'SmolichK', 1791, 'e4,a6,Nf3,b5,d4,Bb7,d5,c6,c4,e6,a4,b4,b3,d6,dxe6,fxe6,Bg5,Be7,Bxe7,Qxe7,Bd3,e5,Nbd2,Nf6,h3,Nbd7,O-O,c5,Nh2,O-O,f4,exf4,Rxf4,Qe5,Rf5,Qd4+,Kh1,g6,Ndf3,Qe3,Nf1,Qh6,Rg5,Bxe4', 'Bxe4,Nxe4,Qd5+,Kh8,Qxe4', 'https://lichess.org/training/XZgWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZJQO', 'Blitz', 'raiaalok123', 1684, 'Cam5556', 1698, 'b3,e5,Bb2,Nc6,d4,exd4,Bxd4,d5,Bb2,Nf6,g3,Bd6,Bg2,Be6,Nf3,O-O,O-O,Be7,a4,Qd7,Ba3,Bxa3,Nxa3,Bh3,c3,Rad8,b4,Ne7,Nb5,a6,Nbd4,Ng6,Ng5,Bxg2,Kxg2,Ne4,Nxe4,dxe4,Kg1,Qh3,Qc2,f5,Qb3+,Kh8,Ne6,Nh4,gxh4,Rf6,Nxd8', 'Rg6+,Kh1,Qg2#', 'https://lichess.org/training/xZJQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZllG', 'Blitz', 'iconoplasta', 1865, 'Strong_Girl_2001', 1958, 'b3,d6,Bb2,Nd7,e3,Ngf6,Nf3,g6,c4,Bg7,Qc2,O-O,Be2,b6,h4,Bb7,Ng5,h6,Bf3,Bxf3,gxf3,hxg5,hxg5,Nh7,f4,Bxb2,Qxb2,e5,Nc3,Qe7,Ne4,exf4,Rxh7,Kxh7,Ke2,fxe3', 'Rh1+,Kg8,Rh8#', 'https://lichess.org/training/xZllG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZlqw', 'Rapid', 'ZenMaster1965', 1880, 'AdhamHeisenberg', 1888, 'e4,g6,Nf3,Bg7,c3,d6,d4,Nf6,Bd3,O-O,O-O,Nc6,Bg5,h6,Bxf6,Bxf6,Re1,e5,d5,Ne7,h3,Bg7,Nbd2,f5,exf5,gxf5,Nh2,Kh8,Bc4,f4,Ng4,Nf5,Ne4,Nh4,f3,Bf5,Bd3,Bxe4,Bxe4,Qg5,Qe2,Bf6,Nxf6,Rxf6,Qf2,Rg8,Re2,Nf5,Bxf5,Rxf5,Rd1,Qg7,Rdd2,Rg5,Qf1,Qd7,Kh1,Rg3,Kh2,R8g5,Kh1,Qf7,c4,Rh5,b3,Rh4,a4,Qh5,b4,Rgxh3+', 'gxh3,Rxh3+,Rh2', 'https://lichess.org/training/XZlqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZmLB', 'Blitz', 'Tigrgr', 1560, 'JerryPap21', 1663, 'e4,c5,Nc3,Nc6,Bc4,g6,d3,d6,f4,Bg7,Nf3,Bg4,O-O,Nf6,Qe1,O-O,e5,dxe5,fxe5,Nd7,e6,Bxf3,exf7+,Kh8,Rxf3,Nde5,Rh3,Nxc4', 'Rxh7+,Kxh7,Qh4+,Bh6,Qxh6#', 'https://lichess.org/training/XZmLB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZNIW', 'Blitz', 'jam1972', 1890, 'abeleureka', 1901, 'c4,e5,Nc3,Nf6,e3,Bb4,g3,c6,Bg2,d6,Nge2,Bf5,d3,O-O,O-O,Qd7,Re1,Bh3,Bh1,a6,a3,Ba5,b4,Bb6,Ne4,Qe6,Nxf6+,Qxf6,Nc3,Nd7,Ne4,Qe7,Bb2,f5,Nc3,Kh8,d4,Qf6,c5,dxc5,dxe5,Nxe5,Na4,Bc7,Rb1,cxb4,axb4,Rad8,Qe2,Qg6,Nc5,Bg4,f3,Bh3,Bg2,Bxg2,Kxg2,Rd5,Nxb7,Nd3,Bd4,f4,e4,Rxd4,g4,h5,h3,hxg4,hxg4,Ne5,Rh1+,Kg8,Qa2+,Qf7,Qxf7+,Rxf7,Nc5,a5,bxa5,Bxa5,Rb8+,Rf8', 'Rxf8+,Kxf8,Ne6+,Kf7,Nxd4', 'https://lichess.org/training/XZNIW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZO1Z', 'Rapid', 'srculionalvarez', 1738, 'Uri2468', 1742, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,c3,Bc5,O-O,O-O,b4,Be7,Bb2,a6,Bb3,d5,exd5,Nxd5,Re1,Bg4,Nbd2,Bf6,Qc2,Nf4,h3,Bf5,Ne4,Bxh3,gxh3,Nxh3+,Kh2,Nf4,a3,Qd7,Nxf6+,gxf6,Rg1+,Kh7,Rg3,Rg8,Rag1,Rxg3,Rxg3,Rg8,d4+,Kh8,dxe5,Rxg3,fxg3', 'Qh3+,Kg1,Qxg3+', 'https://lichess.org/training/XZO1Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xzOdt', 'Rapid', 'seagul', 1886, 'HisenbergN1', 1890, 'e4,e5,f4,exf4,Nf3,g5,h3,h6,Bc4,Nc6,d4,d6,a3,Bg7,Nc3,Nge7,Qd3,f5,Bd2,fxe4,Nxe4,d5,Bxd5,Qxd5,c4,Qd8,O-O-O,Bf5,Rhe1,Qd7,Qb3,O-O-O', 'Nc5,b6,Nxd7', 'https://lichess.org/training/xzOdt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZPoA', 'Rapid', 'domer_bel', 1674, 'Apusapus', 1675, 'c4,e5,Nc3,Bb4,Nf3,Nc6,g3,Nf6,Bg2,d5,cxd5,Nxd5,O-O,Nxc3,bxc3,Bc5,d4,exd4,cxd4,Nxd4,Bb2,Nxf3+,Bxf3,Qg5,Qa4+,Bd7,Qe4+,Be7,Qxb7,O-O,Qxc7,Bb5,Bxa8,Rxa8,a4,Bxe2,Rfe1,Bd8,Qc6,h6,Qxa8,Bg4,Qe4,Bb6,Qe8+,Kh7,Qxf7,Bh5,Qe6,Qd2,Qf5+,Bg6,Qe5', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/xZPoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZr3B', 'Classical', 'winerov', 1731, 'hoviedo45', 1814, 'e4,c5,Nf3,d6,Bc4,Nf6,d4,cxd4,Qxd4,e5,Nxe5,Be6,Bb5+,Nbd7,Nxd7,Bxd7,Nc3,Be7,O-O,O-O,e5,dxe5,Qxe5,Re8,Qg3,Kh8,b3,Rc8,Bxd7,Qxd7,Bb2,Rg8,Rad1,Qc7,Rfe1,Bb4,Rd3,Rge8,Rxe8+,Rxe8,h3,Qxg3,Rxg3', 'Re1+,Kh2,Bd6', 'https://lichess.org/training/xZr3B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XzRRZ', 'Blitz', 'Ziqah97', 1530, 'caneca', 1519, 'e4,Nc6,d4,e5,d5,Nce7,Nf3,Ng6,h4,Nf6,Nc3,Bb4,Bd3,Bxc3+,bxc3,d6,h5,Nf4,g3,Nxd3+,cxd3,Bg4,d4,Nxe4,Qd3,Nf6,dxe5,dxe5,Qe3,Qe7,Nxe5,Nxd5,Qe4,Be6,O-O,O-O,c4,Nf6,Qxb7,Nxh5,Re1,Qf6,Ng4,Qg6,Ne5,Qf5,Qxc7,Rac8,Qxa7,Bxc4,Nxc4,Rxc4,f3,Nxg3,Qe7,Rc2,Qe8,Qh3', 'Qxf8+,Kxf8,Ba3+,Rc5,Bxc5+,Kg8,Re8#', 'https://lichess.org/training/XzRRZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZSRV', 'Blitz', 'Djabov69', 2163, 'dcmunpf123', 2258, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,d3,e6,Be2,Nge7,O-O,O-O,Qe1,d5,Qh4,dxe4,dxe4,Nd4,Bd3,c4,Bxc4,Nxf3+,Rxf3,Qd4+,Be3,Qxc4,Rh3,h6,Qxe7,e5,f5,gxf5,Bxh6,Qe6,Nd5,Bxh6,Nf6+,Kg7,Rg3+,Kh8', 'Qxf8+,Bxf8,Rg8#', 'https://lichess.org/training/xZSRV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZsyN', 'Rapid', 'nursinghalo', 1919, 'Dan-EL0', 1914, 'd4,Nf6,Nf3,e6,e3,g6,Nc3,Bg7,e4,d6,h3,O-O,Be3,b6,Qd2,Bb7,Bd3,Re8,Bh6,Bh8,O-O-O,Nbd7,e5,dxe5,dxe5,Nd5,Bg5,Qc8,Rhe1,c5,Nxd5,Bxd5,Qf4,Qa6,b3,Qxa2,g4,a5,Kd2,Qa3,h4,Qb4+,Ke2,Qxf4,Bxf4,a4,bxa4,c4,Bxc4,Bxc4+,Ke3,Nc5,h5,Rxa4,hxg6,Ra3+,Kd4,Bd5,gxf7+,Kxf7,Ng5+,Kg6,Rb1,Ra4+,Ke3,Rxf4,Kxf4,Rf8+,Kg3,Kxg5,Rxb6,Bxe5+', 'Rxe5+,Kg6,Rxd5', 'https://lichess.org/training/xZsyN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZtb9', 'Rapid', 'insidiousss', 1833, 'Mobyverulam', 1749, 'e4,e6,d4,d5,Nd2,c5,exd5,Qxd5,Ngf3,Nc6,Bc4,Qd6,Nb3,cxd4,Nfxd4,Nxd4,Nxd4,e5,Nb5', 'Qb4+,Bd2,Qxc4', 'https://lichess.org/training/xZtb9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZTGv', 'Rapid', 'kerespaul', 1702, 'TexasDeBrazil', 2189, 'd4,f5,c4,Nf6,Qc2,d6,Bg5,Nbd7,Nc3,g6,Nf3,Bg7,e4,fxe4,Nxe4,O-O,Bd3,c5,O-O-O,cxd4,Nxd4,Ne5,Nxf6+,exf6,Be3,Nxd3+,Qxd3,Qa5,Kb1,f5,Qb3,Kh8,Nf3,Be6,Rxd6,Bg8,Bd4,Rab8,Bxg7+,Kxg7,Re1,b5,Re7+,Kh6,Qe3+,f4,Qc5,Rf5,Rd5,Bxd5,cxd5,Qb6,Qc3,Qf6,Re5,Rd8,g4,fxg3,Qe3+,g5', 'Re6,Rd6,Rxf6+', 'https://lichess.org/training/XZTGv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xztwt', 'Blitz', 'sexame', 1752, 'hawkesj', 1801, 'e4,c5,Nc3,Nc6,d3,e5,f4,exf4,Nf3,d5,exd5,Nb4,Bxf4,Nxd5,Nxd5,Qxd5,c4,Qf5,Qd2,Nf6,Be2,Be7,O-O,O-O,Ne5,Qe6,Rae1,Qa6,b3,Bd8,Bg5,Ba5,Qf4,Bxe1,Rxe1,Re8,Rf1,Bd7,Bxf6', 'Qxf6,Qxf6,gxf6,Nxd7,Rxe2', 'https://lichess.org/training/xztwt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xzuRO', 'Rapid', 'ALFILx', 1905, 'Magic_julio', 1796, 'e4,c5,b4,cxb4,d4,e5,d5,Nf6,Bd3,Be7,Nf3,Bd6,O-O,O-O,Be3,b6,Bg5,h6,Bh4,Re8,Nbd2,Ba6,Qe2,Bxd3,cxd3,g5,Bg3,Nh5,Nxe5,Bxe5,Bxe5,Rxe5,Qxh5,Qf6,Nf3,Re8,Qg4,d6,h4,Kh8,hxg5,hxg5,Nxg5,Rg8,Qh5+,Kg7,Qh7+,Kf8,f4', 'Qd4+,Rf2,Qxa1+', 'https://lichess.org/training/xzuRO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZUyq', 'Rapid', 'beginner_batch', 2057, 'DhruvT', 1944, 'd4,Nf6,Bf4,g6,e3,d6,Nf3,Bg7,h3,O-O,Bh2,Nbd7,Be2,c5,c3,a6,O-O,b5,Nbd2,Bb7,a4,Qb6,Qb3,Bc6,axb5,axb5,Ng5,h6,Ngf3,Nd5,e4,Nc7,dxc5,Nxc5,Qc2,N7e6,e5,dxe5,Nxe5,Bb7,b4,Bxe5,Bxe5,Nd7,Bg3,Nf6,Bd3,Kg7,Ne4,Nxe4,Bxe4,Bxe4,Qxe4,Rac8,Rad1,Rc4,Qf3,Rfc8,Rd7,Rxc3', 'Be5+,Kf8,Bxc3', 'https://lichess.org/training/xZUyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xzW0s', 'Rapid', 'Mikhail_Legonkov', 1672, 'Sagomaldo', 1781, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,Kf1,d6,d4,Be7,Bxf4,Nf6,Nc3,Bg4,h3,Bh5,g4,Bg6,e5,Ne4,Nxe4,Bxe4,Qe2,d5,Bb3,Nc6,c3,a6,Rg1,Qd7,Nd2,Bg6,Qf3,O-O-O,Bd1,f6,Qg3,fxe5,Bxe5,Nxe5,Qxe5,Bd6,Qxd5,Rhf8+,Kg2,Qe7,Bf3,Qh4,Qxb7+,Kd7,Bc6+,Ke7,Rae1+,Kf6,Rgf1+,Kg5,Nf3+', 'Rxf3,Rxf3,Qxe1', 'https://lichess.org/training/xzW0s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZwY7', 'Bullet', 'alabkry201090', 1512, 'Oppenheim', 1514, 'd4,e5,dxe5,d6,e3,dxe5,c3,Qxd1+,Kxd1,Bf5,Be2,Nc6,f3,O-O-O+,Bd2,Bc5,e4,Be6,Nh3,h6,f4,Be3,f5,Bxd2,Nxd2,Bd7,Rf1,Nge7,Kc2,Rhf8,Nb3,g6,f6,Ng8,Nf2,Nxf6,Nd3,Nxe4,Bf3,Bf5,Rae1,Rd7,Bxe4,Bxe4,Rxe4,f5,Rh4,e4,Ndc5,Rd5,Rxh6,Rfd8,Rxg6,Ne5,Rg7,Nc4,Rf2', 'Ne3+,Kb1,Rd1+,Nc1,Rxc1+,Kxc1,Rd1#', 'https://lichess.org/training/xZwY7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZWYk', 'Rapid', 'DOMOSVA', 1927, 'kuldipsinh_rajput', 1902, 'e4,c6,Nf3,d5,e5,c5,c3,Bg4,Bb5+,Nc6,Qa4,Qb6', 'Bxc6+,bxc6,Qxg4', 'https://lichess.org/training/XZWYk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xzXGq', 'Rapid', 'Kraparov75', 1956, 'Dovhyi', 1790, 'd4,Nf6,c4,e5,e3,exd4,exd4,d5,c5,b6,cxb6,axb6,Nf3,c5,Bd3,Nc6,O-O,Be7,Re1,O-O,Nc3,Bg4,Be2,Bxf3,Bxf3,Nxd4,Bg5,Nxf3+,Qxf3,d4,Rxe7,Qxe7,Nd5,Qe5,Nxf6+,gxf6', 'Bxf6,Qxf6,Qxf6', 'https://lichess.org/training/xzXGq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XZxYY', 'Rapid', 'CALHP', 1771, 'Grajewo', 1751, 'b3,d5,Bb2,Nc6,g3,e5,Bg2,Nge7,e3,Ng6,Ne2,Bc5,d4,exd4,Nxd4,Nxd4,Bxd4,Bxd4,Qxd4,O-O,Qxd5,Qxd5,Bxd5,c6,Be4,f5,Bd3,Ne5,Be2,b5,O-O,Ng4,Bxg4,fxg4,Nc3,Bf5,Rac1,b4,Ne2,Be4,Nd4,Bf3,c3,c5,Ne6,Rfc8,cxb4,cxb4,Nd4,Rxc1,Rxc1,h5,Rc5,g6,h3,a5,hxg4,hxg4,Nxf3,gxf3,Kh2,a4,bxa4,Rxa4,Rc2,Kg7,Kh3,g5,Rb2,Kg6,Kg4', 'b3+,e4,bxa2', 'https://lichess.org/training/XZxYY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xZxZk', 'Blitz', 'Jayson_Salubre', 2426, 'Henry_Roger_Lopez', 2371, 'Nf3,Nf6,d4,d5,Bf4,c5,c3,Nc6,e3,Qb6,Qb3,c4,Qc2,Bf5,Qc1,h6,h3,e6,Nbd2,Be7,Be2,O-O,O-O,Qd8,Bd1,b5,Bc2,Bxc2,Qxc2,a5,e4,b4,Rfe1,Re8,Qa4,Qb6,Rab1,Rec8,g4,Bf8,Bg3,Nd7,Kg2,Qb7,h4,Nb6,Qc2,g6,e5,a4,a3,bxa3,bxa3,Na5,h5,g5,Ng1,Nb3,f4,Bxa3,Ndf3,Be7,Nh3,gxf4,Bxf4,Bf8,g5,a3,Kh2,a2,Ra1,Nxa1,Rxa1,Nd7,gxh6,Be7,Rg1+,Kh8,Nhg5,Bxg5,Nxg5,Nf8,Qg2,a1=Q,Rxa1,Rxa1,Nh7,Ng6,hxg6,Rg8', 'g7+,Kxh7,Qc2+,f5,exf6#', 'https://lichess.org/training/xZxZk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xzz0m', 'Blitz', 'ampulka', 2118, 'fabrice7613', 2038, 'd4,Nf6,c4,c5,d5,d6,Nc3,e5,g3,g6,Bg2,Bg7,e4,O-O,Nf3,Ne8,O-O,f5,Ne1,f4,Nd3,g5,b4,b6,bxc5,bxc5,Rb1,Nd7,Bh3,Nb6,Bxc8,Qxc8,Nb2,Qh3,Qf3,fxg3,Qxg3,Rf3,Qxh3,Rxh3,Ne2,Nf6,Ng3,Ng4,Bxg5,Rf8,Be7,Rf7,Bxd6,Nxh2,Bxc5', 'Nf3+,Kg2,Rh2#', 'https://lichess.org/training/xzz0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('xzzem', 'Classical', 'Silent_Knight21', 1725, 'chessyannich', 1789, 'e4,c5,Nf3,d6,d4,cxd4,Bb5+,Bd7,Bxd7+,Qxd7,Nxd4,Nf6,Nc3,Nc6,Nxc6,Qxc6,f3,e6,O-O,Be7,Kh1,O-O,Bg5,Qb6,b3,Qc5,Bd2,Rfc8,Qe2,Bd8,a3,Bb6,b4,Qc4,Qxc4,Rxc4,Rac1,Bd4,Nb5,d5,Nxd4,Rxd4,Bc3,Rc4,Bxf6,gxf6,exd5,exd5,Rfd1,Rd8,c3,Kf8,h3,Ke7,Rd4,Rc7,c4,dxc4', 'Re1+,Kf8,Rxd8+', 'https://lichess.org/training/xzzem');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('XzzmI', 'Classical', 'magnusotuedon', 2062, 'Yunik_Thads', 2056, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d4,Bd6,Nf3,Bg4,O-O,O-O,Nbd2,Nc6,c3,Qd7,h3,Bxh3,gxh3,Qxh3,Re1,Ng4,Nf1,Rae8,Rxe8,Rxe8,Bxd5,Ne7,Be4,f5,Bxb7,Ng6,Ng5', 'Bh2+,Nxh2,Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/XzzmI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y00aC', 'Rapid', 'Sebpaquet', 1710, 'DARKMATTERRR', 1648, 'c4,d5,cxd5,Qxd5,Nc3,Qe6,e4,Nc6,b3,Nf6,Bc4,Qe5,Nf3,Qf4,d3,Qg4,h3,Qxg2,Ke2,Bxh3,Bg5,h6,Rg1,Nd4+,Nxd4,Bg4+,Kd2,Qxf2+,Nce2,Bxe2,Qxe2,Qxd4,Be3,Nxe4+,Kc2,Qc3+,Kb1,Nd6,Rc1,Qa5,a3,Nxc4,Rxc4,O-O-O,Bf4,Rd7,Kb2,e6,b4,Qf5,Qh2,Qf6+,Be5,Qd8,Bxc7,Rxc7,Rxc7+,Qxc7,Rc1,Bd6', 'Qxd6,Qxc1+,Kxc1', 'https://lichess.org/training/Y00aC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y022H', 'Rapid', 'afg97', 2018, 'gulka100', 2366, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,O-O,b5,Bb3,Be7,f4,Bb7,Qe2,O-O,f5,e5,Nf3,Nbd7,Bg5,Rc8,Rad1,Nc5,Bxf6,Bxf6,Bd5,Qb6,Kh1,b4,Bxb7,Qxb7,Nd5,Na4,Nxf6+,gxf6,Rxd6,Qe7,Rxa6,Nxb2,Nd2,Rxc2,Qg4+,Kh8,Rf2,Qc5,Qh4,Qe7,h3,Nd3,Re2,Nf4,Rf2,Rd8,Qh6,Rcxd2,Rxd2,Rxd2,Rxf6,Rxg2,Rb6,Qc7,Rc6,Qd8,Rd6,Rg1+,Kxg1,Qg8+,Kf2', 'Qg2+,Ke1,Qe2#', 'https://lichess.org/training/Y022H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y02Ai', 'Blitz', 'GM DJ_Haubi', 2479, 'kismetim', 1718, 'e4,e6,Nf3,d5,e5,c5,b4,Nc6,bxc5,Bxc5,d4,Bb4+,c3,Be7,Bd3,Nh6,g4,Nxg4,Rg1,Nh6,Rxg7,Nf5,Rg1,Bd7,Nbd2,Qc7,Nf1,f6,Bf4,fxe5,Nxe5,Nxe5,Bxe5,Qxc3+,Ke2,Nxd4+', 'Bxd4,Qxd4,Bg6+,hxg6,Qxd4', 'https://lichess.org/training/y02Ai');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y03Vn', 'Blitz', 'Rocker1260', 1845, 'vetalXL', 1820, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,a6,Nc3,e6,Bd2,Qc7,O-O-O,b5,Nf3,Bb7,Bd3,Rc8,h4,g6,h5,Bg7,h6,Bf6,g4,Ne5,g5,Nxd3+,Qxd3,Be7,Rhf1,f6,Rh1,fxg5,Nxg5,Nf6,f4,Ng4,Rdf1,O-O,f5,exf5,exf5,Bxh1,Rxh1,Nf2,Qd5+,Kh8,Rf1,Rxf5,Qb3,Bxg5,Bxg5,Rxg5,Rxf2,Rg1+,Nd1,Rxd1+,Kxd1,Qd6+,Rd2,Qf4,Re2,Qf1+,Re1,Qf5', 'Qc3+,Rxc3,Re8+,Qf8,Rxf8#', 'https://lichess.org/training/Y03Vn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y06GL', 'Rapid', 'lulugotamara', 1654, 'Monster-SEMA', 1662, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Nxe5,d5,Qe2,Qf6,Bxd5,Qxe5,Bxe4,Bc5,Bc6+', 'Nxc6,Qxe5+,Nxe5', 'https://lichess.org/training/Y06GL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y0cSL', 'Rapid', 'Felix247', 1811, 'Piyushjaindp', 1694, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,a6,Bxc6+,bxc6,dxe5,Bg4,exd6,Bxf3,Qxf3,Qxd6,Bf4,Qf6,Bxc7,Qxb2,Qc3', 'Bb4,Qxb4,Qxb4+', 'https://lichess.org/training/y0cSL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y0EZY', 'Rapid', 'Haithams', 2021, 'AnAMeeN', 2029, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Nbd7,e3,Bd6,a3,O-O,b4,e5,dxe5,Nxe5,cxd5,Nxf3+,Qxf3,Be5,Rc1,Bxc3+,Rxc3,Qxd5,Bxf6,Qxf3,gxf3,gxf6,Bc4,Be6,Ke2,Rfd8,Rd1,Rxd1,Kxd1,Rd8+,Ke2,Kf8,e4,Ke7,Bd3,Rg8,Rc1,Rg5,Ke3,Rh5,Rh1,a5,h4,axb4,axb4,f5,Kf4,fxe4,fxe4,f6,Be2,Re5,Bd3,c5,Rc1,cxb4,Rc7+,Bd7,Rxb7,Kd6,Ke3,Rh5,Rxb4,Rxh4', 'e5+,Kc5,Rxh4', 'https://lichess.org/training/Y0EZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y0g1E', 'Rapid', 'Uaua-Bahia', 1998, 'Japada', 2002, 'e4,c5,f4,d5,exd5,Qxd5,Nf3,Nc6,d3,Nf6,Be2,e5,fxe5,Nxe5,Nxe5,Qxe5,O-O,Bd6,Bf4', 'Qd4+,Kh1,Bxf4', 'https://lichess.org/training/y0g1E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y0gLz', 'Classical', 'SuhailC', 1899, 'albiter', 1835, 'e4,e5,Nc3,Nf6,f4,Nc6,Nf3,d6,fxe5,Nxe5,d4,Nxf3+,Qxf3,Be7,Bc4,O-O,O-O,c6,Bg5,d5,exd5,cxd5,Bxd5,Nxd5,Bxe7,Nxe7,Rae1,Nc6,d5,Qb6+,Kh1,Nd4', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/Y0gLz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y0irX', 'Rapid', 'Sanzhar25', 1612, 'seraphChess', 1865, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,bxc3,O-O,Qb3,Na5,Qc2,d5,Bd3,Bf5,Ng5,Re8,f3,Nxg5,Bxf5,g6,Bd3,Nc4,Bxg5,Qxg5,Bxc4,dxc4,Qa4,Qe3+,Kh1,Qxc3,Rfd1,Re2,Rac1,Rae8', 'Qxe8+,Rxe8,Rxc3', 'https://lichess.org/training/Y0irX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y0mFS', 'Rapid', 'fd1973', 2134, 'hitmanif', 2175, 'e4,c5,Nf3,g6,d4,Bg7,c3,cxd4,Nxd4,d5,exd5,Qxd5,Qb3,Qxb3,Nxb3,a6,Be2,Nf6,Bf3,O-O,Nc5,Nc6,Na3,e5,Bg5,h6,Bxf6,Bxf6,Ne4,Be7,Nc4,f5,Ned6,e4,Be2,b5,Nxc8,Raxc8,Nb6,Rcd8,a4,Bc5,axb5,axb5,Bxb5,Ne5,Bc4+,Kh8,Na4,Nxc4,Nxc5,Nxb2,Ne6,Ra8,O-O,Rxa1,Rxa1,Re8,Nc7,Rc8,Ra8,Rxa8,Nxa8,Nd3,Kf1,Kg7,Nc7,Kf6,Nd5+,Ke5,c4,Nb2,Ne3,h5,g3,g5,c5,f4,gxf4+,gxf4,c6,Kd6,c7,Kxc7,Nd5+,Kd6,Nxf4,h4,Ng2,Ke5,Nxh4,Kf4,Ng2+,Kg4,h4,Nc4,Ne3+', 'Nxe3+,fxe3,Kxh4,Kg2,Kg4', 'https://lichess.org/training/Y0mFS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y0mXs', 'Rapid', 'gimmi', 1843, 'sitekra', 1882, 'd4,Nf6,c4,e6,a3,c6,Nc3,d5,e3,Be7,Nf3,O-O,Bd3,Re8,O-O,Nbd7,cxd5,Nxd5,e4,N5f6,e5,Nd5,Nxd5,cxd5,Qc2,h6,h3,Nf8,Nh2,f6,exf6,Bxf6,Be3,e5,dxe5,Bxe5,Nf3,Bf6,Bd4,Bd7,Qb3,Bc6,Rfe1,Bxd4,Nxd4,Qf6,Nxc6,bxc6,Qc2,Rab8,b4,a5,Rxe8', 'Qxa1+,Kh2,Rxe8', 'https://lichess.org/training/Y0mXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y0N0c', 'Blitz', 'Ivanchuch', 2298, 'Elodie_Riba', 2320, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nc6,c3,Bd6,Ne2,Nge7,Bf4,Bg4,Bxd6,Qxd6,O-O,O-O-O,Qc2,g6,Nd2,h5,Rfe1,h4,Nf1,f5,f3,Bh5,Rad1,Qf6,Nf4,Rd6,Nxh5,Rxh5,Re2,g5,Rde1,Kd7,Qb3,b6,Bb5,Kd8,Qa4,Rh7,Qa6,Rh8,Qb7,Nc8,Ne3,Na5,Nxd5,Qf7,Qxc7+,Qxc7', 'Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/Y0N0c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y0nFx', 'Rapid', 'BuddhiniAM', 1639, 'aki20008', 1841, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,Nf6,Bd3,Kf8,Qe2,h6,h3,Nc6,a3,Bd7,Bd2,Ne4,Nxe4,dxe4,Qxe4,Qf6,Bc3', 'Re8,O-O,Rxe4', 'https://lichess.org/training/y0nFx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y0o1t', 'Blitz', 'Gustad', 1748, 'rajasulam', 1789, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,e6,Be2,Bd6,O-O,Bxf4,exf4,Ne4,Ne5,Nxe5,fxe5,Bd7,f3,Ng5,f4,Ne4,Bd3,f5,Bxe4,fxe4,Qg4,O-O,Nd2,Rf5,Rfe1,c6,Nf1,Qb6,Ng3,Rf7,c3,Qxb2,Rac1,Qxa2,Nh5,Raf8,Re3,Qd2,Rce1,a5,R1e2,Qc1+,Kf2,a4,Rg3,g6,Nf6+,Kh8,Qh4,Rg7,Rh3,Rff7,Ree3,Qd2+,Re2,Qc1,Ree3,a3,Nxh7,Rxh7,Qd8+,Kg7', 'Rxh7+,Kxh7,Rh3+,Kg7,Qh8#', 'https://lichess.org/training/Y0o1t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y0oJx', 'Rapid', 'jhujhu', 1943, 'razorivo85', 1823, 'e4,b6,Bc4,Bb7,Nc3,g6,Nf3,Bg7,Ng5,e6,d3,h6,Nf3,d6,O-O,g5,d4,Nd7,d5,e5,Bb5,a6,Bc6,Rb8,a4,Ne7,b4,Nxc6,dxc6,Bxc6,b5,Bb7,Nd5,Nc5,c4,Nxe4,Qd3,Nc5,Qf5,Bc8,Qc2,a5,Be3,e4,Nd2,Bxa1,Rxa1,Ne6,Nxe4,f5,Nef6+,Kf7,Qc3,f4,Bd4,Rf8,Re1,Nxd4,Re7+,Qxe7,Nxe7,Kxe7', 'Nd5+,Kd8,Qxd4', 'https://lichess.org/training/y0oJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y0oSQ', 'Blitz', 'doctorsharmsar', 1507, 'YousefMohebiRad', 1957, 'd4,e6,Bf4,d5,e3,c5,c3,Nc6,Bd3,Nf6,Nf3,Be7,Nbd2,Nh5,Bg3,Nxg3,hxg3,h6,Ne5,Nxe5,dxe5,Qc7,f4,c4,Bc2,Qb6,b3,Qxe3+,Qe2,Qxg3+,Kf1,Qxf4+,Qf2,Qxe5,Qf3,Qxc3,Qxc3,Bf6,Qg3,Bxa1,Ke2,Bd7,Rxa1,O-O-O,Qxg7,Rhg8,Qxf7,Rxg2+,Kf3,Rxd2,Bg6,e5,Re1,e4+,Ke3', 'Rd3+,Kf2,Rf3+,Qxf3,exf3', 'https://lichess.org/training/y0oSQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y0p7W', 'Blitz', 'damianlitwik', 1673, 'Defen_der', 1670, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,c3,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,cxb2,Bxb2,Nf6,O-O,Nxe4,Re1,d5,Nc3,Ne7,Nxd5,Nxc5,Rxe7+,Kf8', 'Bxg7+,Kg8,Nf6#', 'https://lichess.org/training/Y0p7W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y0tAn', 'Classical', 'waterdrop', 2083, 'pilor77', 2006, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,O-O-O,Bd7,g4,Rb8,h4,h5,gxh5,Nxh5,Rg1,Ne5,f4,Ng4,Be2,Nxe3,Qxe3,Nxf4,Qxf4,e5,Qg3,exd4,Nd5,Be5,Qf2,Be6,h5,Bxd5,exd5,Qf6,Qg2,d3,Bxd3,Bxb2+,Kb1,Ba3,c4,b5,c5,Bxc5,hxg6,fxg6,Qxg6+,Qxg6,Rxg6+,Kf7,Rf1+,Ke8,Re1+,Kd8,Rg7,Re8', 'Rxe8+,Kxe8,Rg8+,Kd7,Rxb8', 'https://lichess.org/training/y0tAn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y0vcq', 'Bullet', 'FM StarChief', 2330, 'SoundTacStrat', 2414, 'c4,e5,g3,g6,Bg2,Bg7,Nc3,Ne7,Nf3,O-O,O-O,Nbc6,d3,b6,Rb1,a5,a3,Bb7,b4,axb4,axb4,Nd4,e4,Nxf3+,Bxf3,d6,Bg2,Qd7,Nd5,Nxd5,cxd5,c6,dxc6,Bxc6,Be3,b5,Qb3,Ra4,Rfd1,Qb7,Rbc1,Rfa8,Rc3,Bd7,d4,Bg4,Rdc1,Ra1,d5,Rxc1+,Rxc1,Rc8,Rc3,Be2,Qc2,Rxc3,Qxc3,Bc4,h4,h5,Qa3,Bf6,Qa5,Qd7,Kh2,Bd8,Qa8,Kg7,Bg5,Bxg5,hxg5,h4,Bh3,hxg3+,Kxg3,Qe7,Kh4,f6,gxf6+', 'Qxf6+,Kg3,Qf4+,Kg2,Qxe4+', 'https://lichess.org/training/y0vcq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y0WE4', 'Rapid', 'yvontesio', 1909, 'biba56', 1750, 'e4,c5,Nf3,e6,Nc3,Nc6,d4,cxd4,Nxd4,a6,Be3,d6,Be2,Nf6,O-O,Be7,a3,O-O,f4,Nxd4,Bxd4,b5,Qe1,Bb7,Qg3,g6,Bd3,Nh5,Qh3,Bf6,Bxf6,Nxf6,f5,Qb6+,Kh1,Qd4,fxg6,fxg6,Qxe6+,Kg7,Rae1,Rae8,Qh3,Nh5,Rxf8,Rxf8,Nd5,Bxd5,exd5,Qxd5,Qd7+,Rf7,Re7,Nf4,Rxf7+,Qxf7,Qxd6,Qf6,Qxf6+,Kxf6,g3', 'Nxd3,cxd3,Ke5,Kg2,Kd4', 'https://lichess.org/training/Y0WE4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y0zgu', 'Blitz', 'k6gst', 1633, 'SeriousManuA', 1574, 'e4,g6,Nf3,Bg7,d4,b6,Be3,Bb7,Bd3,d6,Nc3,Nd7,h3,e6,O-O,Ne7,Qd2,c6,Bh6,Bxh6,Qxh6,Qc7,Qg7,O-O-O,Qxf7,Ng8,Qxe6,Nf6,Qb3,Nh5,Qa3,Kb8,Ba6,Bc8,Bxc8,Qxc8,Qxd6+,Ka8,Qa3,Rhf8,e5,Nf4,Rad1,Nb8,d5,Nxh3+,Kh2,Rxf3,gxf3,Ng5,Rh1', 'Qh3+,Kg1,Nxf3#', 'https://lichess.org/training/Y0zgu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y0zip', 'Rapid', 'PROmedallin', 1848, 'drbobangolubac', 1854, 'd4,d5,f3,Nc6,e4,e6,h4,Bd6,e5,Be7,g3,Nh6,Bxh6,gxh6,Bh3,Rg8,Ne2,Bxh4,gxh4,Qxh4+,Kd2,Nxd4,Nxd4,Qxd4+,Kc1,Qf4+,Nd2,Qxe5,Re1,Qd6,Qe2,Bd7,a4,O-O-O,Qe3,Qb6,Qxh6,Rg1,Nf1,Qb4,Qe3,d4,Qe2,Bxa4,Rd1,Bxc2,Qxc2,Rd6,Kb1,Rg5,Qxh7,Rc5,Qxf7', 'Qxb2+,Kxb2,Rb6+,Ka3,Ra5#', 'https://lichess.org/training/Y0zip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y1BiU', 'Rapid', 'roastr', 1718, 'kastet80', 1772, 'd4,d5,Nf3,Nf6,e3,g6,Nbd2,Bg7,c4,O-O,cxd5,Qxd5,Bc4,Qh5,Be2,Qa5,O-O,c6,Nc4,Qc7,Nce5,Nbd7,Nxd7,Bxd7,Bd3,Rfe8,Ne5,Bg4', 'Nxg4,Nxg4,Qxg4', 'https://lichess.org/training/y1BiU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y1bLW', 'Classical', 'Homebot', 1631, 'AlexGras', 1729, 'e4,e5,Nf3,Nc6,Be2,Nf6,d3,d5,Nc3,d4,Nd5,Nxd5,exd5,Qxd5,O-O,g6,Bg5,Bg7,c4,Qe6,Qc1,O-O,Bh6,Bxh6,Qxh6,f6,b3,Ne7,Rae1,Nf5,Qd2,Ne7,h3,a6,Nh2,Qc6,Qh6,b5', 'Bf3,Qe8,Bxa8', 'https://lichess.org/training/Y1bLW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y1CQC', 'Bullet', 'Widdersbacher', 2394, 'NM ClassyKnightMoves', 2410, 'g3,c5,Bg2,d6,c4,Nc6,Nc3,Nf6,a3,g6,Rb1,Bg7,b4,cxb4,axb4,O-O,b5,Ne5,d3,Be6,Bxb7,Rb8,Bg2,Ned7,Bd2,d5,cxd5,Bf5,e4,Bg4,f3,Bh5,g4,Bxg4,fxg4,e6,dxe6,fxe6,h3,Nc5,Qc2,Nxd3+,Ke2,Ne8,Qxd3', 'Rf2+,Kxf2,Qxd3', 'https://lichess.org/training/Y1CQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y1dBv', 'Blitz', 'MN_Lawliet', 1934, 'Sigrud', 1961, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Bxf7+,Ke7,Bb3,Qe8,d3,d6,Nc3,h6,Nf3,Bg4,Be3,Bb6,O-O,Qh5,h3,Rhf8,Bxb6,axb6,hxg4,Nxg4,Nd5+,Kd7,Re1,Nd4,Re3,Rxf3,Rxf3', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/Y1dBv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y1GgJ', 'Rapid', 'romanapple', 1993, 'Josue-Argel', 1846, 'e4,e5,f4,exf4,Nf3,d5,exd5,Bd6,Bb5+,c6,dxc6,Nxc6,Bxc6+,bxc6,O-O,Ne7,Re1,O-O,d4,Rb8,Nbd2,Nd5,Ne4,Bc7,c4,Nf6,b3,Ba5,Nxf6+,Qxf6,Re5,Bc3,Rb1,Bg4,Ba3,Bxf3,gxf3,Rfd8,Bc5,Qxe5,dxe5,Rxd1+,Rxd1,Bxe5,Bxa7,Ra8,a4,h5,Rd7', 'Rxa7,Rxa7,Bd4+,Kf1,Bxa7', 'https://lichess.org/training/Y1GgJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y1GTy', 'Blitz', 'dym1971', 2129, 'Space1999', 2163, 'e4,c5,Nf3,Nc6,Bc4,g6,Nc3,Bg7,d3,Nf6,Bg5,O-O,O-O,h6,Bh4,g5,Bg3,a6,a4,b6,h3,Bb7,Nh2,Nd4,Ng4,d6,Rc1,Nh5,Bh2,Nf4,Bxf4,gxf4,Ne2,Nxe2+,Qxe2,Bxb2,Rb1,Bg7,Qf3,Kh7,Qxf4,e5,Qf5+,Kh8,Qh5,Kh7,Bxf7,Qc7,Bg6+,Kg8,Nxh6+,Bxh6,Qxh6,Qg7,Qh5,Bc6,Rxb6,Bxa4,Rxd6,Bxc2,Bf5,Rf6,Rxf6,Qxf6,Rc1,Bxd3,Rxc5,Rd8,Rxe5,Bxe4,Bxe4,Rd1+,Kh2', 'Qf4+,g3,Qxf2+,Bg2,Qg1#', 'https://lichess.org/training/y1GTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y1h31', 'Rapid', 'fgaido', 1662, 'Peregudov', 1741, 'd4,d5,Nf3,e6,Bf4,h6,h3,Bd6,Ne5,Qf6,e3,Nd7,Bd3,Nxe5,dxe5,Bxe5,Bxe5,Qxe5,O-O,Qxb2,Nd2,Ne7,Qg4,e5,Qxg7,Rg8,Qxh6,e4,Rfb1,Qe5,Bb5+,c6,Be2,Rh8,Qf4,Qg7,Qg3,Qc3,Nf1,Be6,Bg4,Nf5,Bxf5,Bxf5,Rxb7,Qxa1,Rb8+,Ke7,Qg5+,Qf6,Rb7+,Ke6,Qf4,Rag8,Ng3,Qe5', 'Re7+,Kxe7,Qxe5+', 'https://lichess.org/training/y1h31');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y1jkV', 'Classical', 'ShuvoNewaz', 1775, 'Young-boy_2011', 1636, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,e6,a3,a6,O-O,Be7,d4,cxd4,Nxd4,b5,Ba2,Bb7,Re1,e5,Nf3,O-O,Nd5,Nxd5,Bxd5,Nc6,c3,Rc8,b4,Re8,Qb3,Rf8,a4,bxa4,Rxa4,h6,Be3,Qd7,h3,Rb8,Rea1,Bf6,c4,Rfc8,Rc1,Nd4,Nxd4,exd4,Bf4,Bxd5,exd5,Be5,Bxe5,dxe5,Rxa6,Qb7,b5', 'Qxa6,bxa6,Rxb3', 'https://lichess.org/training/Y1jkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y1K1Q', 'Blitz', 'BumpyJ', 1548, 'SOJA64', 1556, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Be2,e6,O-O,h6,c4,dxc4,Bxc4,Nc6,Nc3,a6,Be3,Bd6,Bb3,Nf6,Qd2,Ng4,Rfe1,O-O,d5,Nce5,Nxe5,Bxe5,h3,Nxe3,Qxe3,Bc7,dxe6,Bxe6,Bxe6,fxe6,Qxe6+,Kh8,Rad1,Qe8,Qc4,Qf7,Qg4,Qxf2+,Kh1,Rf4,Qg6,Rf3,Nd5', 'Rxh3+,gxh3,Qh2#', 'https://lichess.org/training/Y1K1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y1KC9', 'Bullet', 'Shpohenko', 1805, 'Edgq', 1714, 'e4,e5,Nf3,Qf6,Nc3,c6,Bc4,d6,O-O,Be7,d3,Qg6,Kh1,Bg4,h3,h5,Be3,Nd7,Qd2,Nh6,Nh2,Be6,f4,exf4,Bxf4,O-O-O,Nf3,Ne5,Bxe6+,Qxe6,Ng5,Bxg5,Bxg5,f6,Be3,Kb8,Ne2,g5,Qa5,a6,Qb6,Qc8,Qa7+,Kc7,Bb6+,Kd7,Bxd8,Rxd8,Rxf6,g4,Rxh6,gxh3,gxh3,Kc7,Rxh5,Rg8,Qf2,Qe8,Rh4,Ng6,Rg4,Rh8,Kh2,Ne5,Rg3,Qh5,Rf1,Ng4+,Rxg4', 'Qxh3+,Kg1,Qh1#', 'https://lichess.org/training/Y1KC9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y1kYL', 'Rapid', 'slebor', 1747, 'Schaitan', 1805, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,Ng5,O-O,O-O,h6,Nf3,d6,a3,Nd4,b4,Nxf3+,Qxf3,Bd4,Rb1,Bg4,Qg3,Qd7,h3,Bh5,a4,Bxc3,dxc3,Nxe4,Qh4,Bg6,Rb3,d5,Bd3,c5,Bxe4,Bxe4,b5,Bxc2,Rb2,Bxa4,Re1,Rfe8,Re3,Bxb5,Rg3,Re6,Bxh6,Rxh6', 'Qxh6,f5,Rxb5', 'https://lichess.org/training/Y1kYL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y1o1l', 'Classical', 'rapearl19', 1640, 'ChequersFan', 1677, 'd4,d5,c4,c6,Nf3,dxc4,e3,b5,Nc3,a6,a4,Bb7,axb5,axb5,Rxa8,Bxa8,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/y1o1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y1pTI', 'Rapid', 'SavioCunha', 1862, 'DABROWA', 1927, 'd4,e6,c4,Nf6,Nc3,Bb4,Bg5,O-O,Nf3,d5,e3,Nbd7,Qb3,Qe7,c5,Bxc3+,Qxc3,h6,Bh4,Re8,Ne5,c6,Bd3,Qf8,O-O,Nxe5,Bxf6,gxf6,dxe5,f5,Kh1,Qg7,Qd4,Kh8,b4,Bd7,Be2,Rg8,Rg1,Raf8,f3,f6,exf6,Rxf6,e4,fxe4,fxe4,Rf4,Qxg7+,Rxg7,exd5,exd5,a3,Rf2,Bf3,Bf5,Rae1,Ra2,Ra1,Rd2,Rae1,Ra2,Ra1,Rd2,h3,Kh7,Kh2,Re7,Rge1,Be4,Kg3,Kg6,Bxe4+,dxe4,Re3,Re5,Rf1', 'Rg5+,Kf4,Rf5+,Kxe4,Rxf1', 'https://lichess.org/training/Y1pTI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y1qp5', 'Blitz', 'abedinov', 2370, 'IM MicFed', 2432, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d5,c3,c6,Bf4,Nh5,Bd2,Nd7,Re1,e5,dxe5,Nxe5,Nxe5,Bxe5,Na3,Ng7,Bh6,Re8,e4,dxe4,Bxe4,Bf5,Bxg7,Qxd1,Raxd1,Bxg7,Bxf5,gxf5,Nc4,Rxe1+,Rxe1,Rd8,Re7,b5,Ne3,f4,gxf4,Rd2,Rxa7,Rxb2,c4,Bd4,Ra8+,Kg7,cxb5,Bxe3,fxe3,cxb5,e4,Rb4,Re8,Rb1+,Kg2,Rb2+,Kg3,Rxa2,h4,b4,Kg4,b3,Rb8,b2,Kf5,Ra5+,e5,Ra2,h5,h6,Rb7,Kg8,Kf6,Ra6+,Ke7', 'Ra7,Rxa7,b1=Q', 'https://lichess.org/training/y1qp5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y1sKU', 'Rapid', 'Gohar76', 1675, 'ayman_anaconda', 1895, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bd3,Bg4,Be2,Nf6,O-O,e6,c3,a6,Bg5,Be7,Nbd2,h6,Bh4,O-O,Re1,Re8,Qc2,Nd7,Bxe7,Qxe7,Nf1,b5,Ne3,Bxf3,Bxf3,Qd6,b3,Rac8,Qd2,Qf4,Qb2,Nb6,Rad1,Qc7,Rc1,Nd7,c4,bxc4,bxc4,Rb8,Qd2,dxc4,Nxc4,Ne7,Ne5,Qd8,Qf4,Nxe5,dxe5,Rf8,Be4,Rc8,Rcd1,Qc7,Bb1,Nd5,Qe4,g6,h3,Qc4,Rd4,Qc6,Qh4,Kg7,Be4,Qc3,Red1,Rc4,Bxd5,Rxd4,Rxd4,Qe1+,Kh2,Qxe5+,Qf4,Qxf4+,Rxf4,exd5,Ra4,Ra8,Kg3,Kf6,Kf4,Ke6,Ke3,Ke5,f4+,Ke6,Kd4,f6,Ra5,h5,Rxd5,a5,Rb5,a4,Rb6+,Kf5,Ke3,a3,Kf3,Ra4', 'g4+,hxg4+,hxg4#', 'https://lichess.org/training/y1sKU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y1SPO', 'Rapid', 'Alentejano39', 1997, 'crownlessqueen1', 1984, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,O-O,Be7,d4,cxd4,Nxd4,Nc6,Bg5,O-O,c3,Nxd4,Qxd4,Be6,Nd2,Qd7,Nf3,Rfd8,Bc2,h6,Bh4,Rac8,Qd3,Ne4,Bxe7,Qxe7,Nd4,Qg5,f4,Qh4,Rae1,Bg4,Rxe4,dxe4,Qxe4,g6,h3,Bd7,Nf3,Qf6,Qe5,Qb6+,Kh2,Re8,Qd4,Qxb2,Bxg6,fxg6,Qxd7,Qxc3,Qd5+,Kh8,Ne5,Rc5,Qf7,Rcxe5,fxe5,Qxe5+,Kh1,Qe6,Qxb7,Qxa2,Kh2,a5', 'Rf7,Qxf7,Qxf7', 'https://lichess.org/training/Y1SPO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y1Xtq', 'Rapid', 'Hartum', 2224, 'itachi2007uchiha', 2366, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,Be2,d5,h3,c5,c3,Qb6,Qb3,c4,Qa3,Qd8,Nbd2,Nc6,b3,b5,bxc4,bxc4,O-O,Bf5,Nh4,Be4,Nxe4,Nxe4,Nf3,Qa5,Qxa5,Nxa5,Rfc1,Nd6,Bxd6,exd6,Rab1,Rab8,Nd2,Nc6,e4,dxe4,Bxc4,Ne7,Nf1,d5,Bb3,Rfc8,Ne3,Rd8,Rd1,Kh8,g4,f5,gxf5,gxf5,Kh2,f4,Ng2,Ng6,h4,f3,Ne3,Nf4,Rg1,Ne2,Rg5,Nxc3,Rbg1,Bxd4,Nf5,Bxf2,Nh6,Rf8,Rg8+,Rxg8', 'Nf7#', 'https://lichess.org/training/Y1Xtq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y22EC', 'Classical', 'flopniveau', 1773, 'Hoorky', 1690, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Be7,h3,Nf6,d3,Na5,Nbd2,Nxc4,dxc4,c5,O-O,O-O,Re1,b6,Nf1,Bb7,Ng3,Qc7,Qc2,Bc6,Nd2,Qb7,Nf5,Bd8,Nxd6,Qb8,Nf5,Bc7,Ne3,Qb7,Nd5,Rfe8,Nf3,Bxd5,cxd5,Nd7,g4,h6,c4,Bd8,Qe2,f6,Nh4,Nf8,Nf5,Qd7,f3,Ng6,Qf2,Nf4,Bxf4,exf4,Rad1,Kh7,Nh4,g5,Ng2,Re5,h4,Kg6,hxg5,fxg5,Rf1,Bf6,Ne1,Ree8,Nd3', 'Bd4,Nxf4+,gxf4,Rxd4,cxd4', 'https://lichess.org/training/Y22EC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y22Ut', 'Rapid', 'FrereKeiser', 1815, 'shanat287', 1666, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bc4,Ke7,O-O,Be6,Bxe6,Kxe6,Nc3,Bd6,f4,exf4,Bxf4,f6,Bxd6,Kxd6,Rad1+,Ke6,Rf5,c6,Na4,b6,Nc3,Ne7,Rff1,Rad8,a3,Rxd1,Rxd1,Ng6,h3,Ne5,b3,Re8,Kf2,g5,a4,a5,g4,h6,Ke3,Nf7,Ne2,Rd8,Nd4+,Kd7,Nf5+,Kc7,Rxd8,Kxd8,c4,Kd7,Kd4,Ke6,Ng7+,Kd6,Nh5,Ke6,c5,bxc5+,Kxc5,Ne5,Ng7+,Kd7,Nf5,Nd3+,Kc4,Nf4,Nxh6,Nxh3,Kc5,Nf2,Kb6,Nxe4,Kxa5,Nd6,Kb6,Nc8+,Kb7,Nd6+,Ka7,Kc7,a5,Nb5+,Ka6,Nd6,b4,Ne4,b5', 'Nc5+,Ka7,cxb5', 'https://lichess.org/training/y22Ut');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y247t', 'Blitz', 'Basuk05', 2472, 'GM Buhmann', 2704, 'c4,e6,Nf3,d5,g3,Nf6,Bg2,Be7,O-O,O-O,d4,c6,Nc3,a5,Nd2,b6,e4,Ba6,e5,Nfd7,Re1,b5,b3,a4,c5,axb3,a3,f6,exf6,Bxf6,Nxb3,e5,Nxd5,cxd5,Bxd5+,Kh8,Bxa8,exd4,Bf4,Qc8,Bd6,Nc6,Bxc6,Qxc6,Na5,Qd5,Bxf8,Nxf8,Re8,Kg8,Qe1,Kf7,Rd1,Qxc5,Ra8,Bc8,Nb3,Qc6,Ra7+,Kg8,Nxd4,Qb6,Ra8,Bb7,Rxf8+,Kxf8,Ne6+,Kf7,Rd7+,Kg6,Nf4+,Kh6,Qd2,Qc6,Ne6+,g5,Nf4', 'Qh1#', 'https://lichess.org/training/Y247t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y26QZ', 'Classical', 'aldibutterchicken', 1787, 'mehmoodmatrix', 1873, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Bb4,Qc2,O-O,e3,Nc6,Bd3,h6,Bh4,Re8,a3,Bxc3+,bxc3,Qd6,Ne2,Ne4,f3,Nf6,e4,dxe4,fxe4,Bg4,e5,Qd5,O-O,Nxe5,dxe5,Rxe5,Bxf6,gxf6,Rxf6,Rae8,Rf2,Qc5,Nd4,Re1+,Rxe1,Rxe1+,Rf1,Qe5,Qf2,Rxf1+,Qxf1,c5,Ne2', 'Qe3+,Qf2,Qxd3', 'https://lichess.org/training/Y26QZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y28io', 'Rapid', 'RoefsOnOnFire', 1793, 'RookAtThatKing', 1780, 'e4,e5,Nf3,d6,Bc4,h6,c3,c6,d4,Qf6,Be3,Bg4,Nbd2,Be7,Qb3,Bc8,dxe5,dxe5,O-O,b5,Bxb5,cxb5,Qxb5+,Qc6,Qxe5,Nf6,Rad1,Nbd7,Qg3,O-O,Bxh6,Nh5,Qg4,Qxh6,Nd4,Ne5,Qe2,Bg4,f3,Bd7,Nf5,Bxf5,exf5,Bc5+,Kh1,Rfe8,Ne4,Nf4,Qd2,Bb6,g3,Nh3,Qxh6,gxh6,Nf6+,Kg7,Nxe8+,Rxe8,Kg2,Nf2,Rxf2,Bxf2,Kxf2,Kf6,Re1,Rd8,Kg2,Kxf5,f4,Ng4,h3,Rd2+,Kf3', 'Rf2#', 'https://lichess.org/training/Y28io');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y28Wr', 'Rapid', 'fvfvfv', 1854, 'damdamdeodam', 1929, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Nf3,Bd6,Bg5,c6,Be2,O-O,O-O,Bg4,h3,Bh5,g4,Bg6,Ne5,Nbd7,f4,h6,Bh4,Qc7,Bd3,Bxd3,Qxd3,Rfe8,Qf5,Qb6,Ne2,Qxb2,g5,Bxe5,fxe5,hxg5,Bxg5,Ne4,Qxf7+,Kh8,Qxd7,Nxg5,Rab1,Qxc2,Rxb7,Rg8,Qg4,Qg6,Nf4', 'Nxh3+,Nxh3,Qxg4+', 'https://lichess.org/training/y28Wr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y2b4H', 'Blitz', 'FM SGabor89', 2379, 'Knyghtryder', 2338, 'd4,d5,c4,e6,Nc3,a6,Nf3,Nf6,Bg5,dxc4,e4,b5,e5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be7,exf6,Bxf6,Qf3,Bxg5,Qxa8,Qxd4,Rd1,Qe5+,Be2,c6,g3,Be7,Qa7,b4,Na4,Nd7,Qd4,Qxd4,Rxd4,c5,Rxc4,Bb7,O-O,Bd5,Rc2,Bxa2,Bc4,Bxc4,Rxc4,Ne5,Re4,Nf3+,Kg2,Nd2,Rfe1,Nxe4,Rxe4,Kd7,b3,f5,Re5,Bd6,Re2,Kc6,Rxe6,Kd5,Rf6,f4,Nb6+,Kc6,Nc4,Rd8,gxf4,a5,h4,Kd5,Nb6+,Ke4,Nc4,Bxf4', 'f3+,Kd3,Rxf4', 'https://lichess.org/training/Y2b4H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y2Coz', 'Classical', 'TusharJoshi', 1692, 'noorcafe', 1817, 'e4,e6,c4,d5,cxd5,exd5,exd5,Qxd5,Nc3,Qe5+,Be2,Nf6,Nf3,Qh5,d4,Bd6,Ne5,Qf5,Bd3,Qe6,O-O,O-O,Re1,Re8,Bc4,Qf5,Bxf7+,Kh8,Ng6+,hxg6,Rxe8+,Nxe8,Bxe8,c6,Qe2,Be6,Bd2,Na6,g4,Qf6,Bg5,Qxg5,Qxe6,Qf4,Qxg6,Qxh2+,Kf1,Qh1+,Ke2,Qxa1,Qh5+,Kg8,Bd7,Qxb2+,Kf1,Qc1+,Kg2,Nc7,Ne4,Qf4,Nxd6,Qxd6,Bf5,Qd5+,Kh3,Qf3+,Kh4,Qxf2+,Kg5,Ne6+,Bxe6+,Kf8,Qh8+,Ke7,Qxa8', 'Qf6+,Kh5,Qh6#', 'https://lichess.org/training/Y2Coz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y2cYm', 'Rapid', 'macaco_do_bras', 1975, 'kaktank88', 1624, 'e4,c5,Bc4,e6,Nc3,a6,a3,Qc7,d3,Nc6,Nge2,Nf6,O-O,Be7,Ng3,O-O,Be3,Nd4,f4,d6,Rc1,Bd7,f5,exf5,exf5,Rfe8,Bxd4,cxd4,Nce2,d5,Bb3,Qe5,Qd2,Qe3+,Qxe3,dxe3,Rce1,a5,Nf4,d4,Nfe2,Bc5,Rf4,a4,Ba2,Rac8,Bb1,Rc6,Nxd4,Rb6,b4,axb3,Nxb3,Bxa3,Rf3,Nd5,Ne2,Bb4,Rd1,Nc3,Nxc3', 'Bxc3', 'https://lichess.org/training/Y2cYm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y2dQ7', 'Blitz', 'Carlus_Mangsen', 1771, 'Apatchenlama', 1808, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Bd3,Bd7,Nf3,Qb6,O-O,cxd4,Re1,Bg4,h3,Bh5,e6,Nf6,exf7+,Bxf7,Ng5,Bh5,g4,Bg6,Ne6,Nd8,Bxg6+,hxg6,Nxd4,Rxh3,Kg2,Rh4,f3,Nc6,Re6,O-O-O,Qc2,Qc7,Kg1,Qg3+,Qg2,Qxg2+,Kxg2,Nxd4,cxd4,Kd7,Re1,Rc8,Bg5,Rh8,Nc3,e6,Re3,Bd6,Rae1,Rh2+,Kg1,Re8,Bxf6,gxf6,Nxd5,Reh8,Nxf6+,Kd8,Rxe6', 'Rh1+,Kf2,R8h2+,Ke3,Rxe1+', 'https://lichess.org/training/Y2dQ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y2G4e', 'Blitz', 'vik_48', 2044, 'pixelez', 1906, 'e4,c5,c3,d6,d4,Nd7,Nf3,g6,Bd3,Bg7,Be3,Ngf6,h3,O-O,O-O,a6,a4,Rb8,Na3,Ne8,Qd2,Nc7,Bh6,cxd4,Bxg7,Kxg7,Nxd4,Ne5,Be2,Ne6,f4,Nc6,Nxc6,bxc6,b4,c5,b5,axb5,axb5,Bb7,Qe3,Qd7,Rad1,Qc7,f5,Nd8,c4,f6,Nb1,Nf7,Nc3,Ne5,Nd5,Bxd5,exd5,Ra8,fxg6,hxg6,Rd2,Ra4,Rc1,Rfa8,Qf4,Qb6,Bf1,Rb8,Re2,Qxb5,Rxe5,fxe5,Qh4,Qb7,Rc3,Rf8,Rg3,Rf6,Qg4,Ra1,Rf3,Rxf3,Qxf3,Qb1,g4,e4,Qe2,Qd3,Kf2,Qd4+,Kg2,e3,Qf3,Qd2+,Kg3,Rxf1,Qxf1,e2,Qa1+,Kh6', 'Qh8+,Kg5,h4#', 'https://lichess.org/training/Y2G4e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y2JzQ', 'Rapid', 'ZeL1k', 1626, 'emmanuelsalomon', 1745, 'e4,g6,d4,Bg7,Nf3,d6,c4,Nd7,Nc3,Ngf6,Be3,Ng4,Bf4,e5,dxe5,Ngxe5,Nxe5,Nxe5,Be2,Be6,Nd5,c6,Ne3,Qe7,O-O,O-O,Rb1,Rad8,b4,f5,f3,fxe4,fxe4,g5,Bg3,Rxf1+,Bxf1,Bg4', 'Nxg4,Nxg4,Qxg4', 'https://lichess.org/training/y2JzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y2k47', 'Blitz', 'Joop1940', 2240, 'highway_star', 2282, 'd4,d5,Bg5,c5,dxc5,Nc6,Nf3,f6,Bd2,e5,b4,a5,c3,Bg4,a3,d4,Qb3,dxc3,Bxc3,axb4,Bxb4,Bxf3,exf3,Qd4,Ra2,Nxb4,axb4,Rxa2,Qxa2,Qxb4+,Nd2,Bxc5,Bc4,Ne7,Qa8+,Kd7,Qxh8,Bxf2+,Kxf2,Qxd2+,Be2,Qd4+,Kg3', 'Nf5+,Kh3,Qh4#', 'https://lichess.org/training/y2k47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y2MBu', 'Rapid', 'jotaele89', 2051, 'Hisoka-yaki', 2043, 'e4,Nf6,Nc3,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bc4,O-O,Qf3,Re8,O-O,Bxc3,bxc3,Rxe4,Bg5,Re8,Rfe1,Rxe1+,Rxe1,d5,Bxf6,gxf6,Bd3,Qd6,Qh5,f5,Re3,Qf6,Rg3+,Kf8,Qxh7,Qxc3,Qg8+,Ke7,Qg5+,Kd6,Qd8+,Kc5,Qe7+,Kb6,Qe3+,c5,h3,Be6,Qc1,c6,Qb1+,Kc7,Ba6,Rb8', 'Qxb8+,Kxb8,Rxc3', 'https://lichess.org/training/Y2MBu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y2mTx', 'Rapid', 'MaximTyurin', 1848, 'PadreJBO', 1871, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Rg1,e5,Nb3,Be6,g4,h6,h4,Be7,g5,hxg5,hxg5,Nfd7,Be3,Nc6,Qd2,Qc7,O-O-O,b5,a3,Rc8,Nd5,Bxd5,exd5,Nd8,Bd3,Nb7,f4,Nbc5,Nxc5,Nxc5,fxe5', 'Nb3+,Kb1,Nxd2+', 'https://lichess.org/training/Y2mTx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y2N5G', 'Rapid', 'W_Ciolek', 1689, 'IvanaJackie', 1736, 'e4,c6,d4,d5,exd5,cxd5,Nf3,a6,Bf4,Nc6,c4,Nf6,Bg5,Ne4,cxd5,Qxd5,Be3,Bg4,Nc3,Qa5,Bd2,Nxd2,Qxd2,Bxf3,gxf3,O-O-O,d5,e6,Qf4,exd5', 'Bh3+,f5,Bxf5+', 'https://lichess.org/training/Y2N5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y2qmG', 'Rapid', 'ironmanx2216', 2119, 'AncientAkkad', 2214, 'd4,Nf6,Nf3,g6,Bg5,Bg7,e3,O-O,Be2,d5,h3,Ne4,Bf4,c5,c3,Qb6,Qc1,Nc6,Nbd2,Bf5,Nxe4,dxe4,Nd2,cxd4,Nc4,dxc3,bxc3,Qc5,Rb1,Rad8,Rxb7,Be6,Qa3,Bxc4,Qxc5', 'Bxc3+,Kf1,Rd1#', 'https://lichess.org/training/Y2qmG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y2Suo', 'Rapid', 'Xilften1', 2149, 'Xano2008', 2016, 'e4,e5,Nf3,Nf6,d4,Nxe4,Bd3,Nf6,dxe5,Nd5,O-O,Be7,Nc3,Nxc3,bxc3,O-O,Qe2,d6,Qe4,g6,Bh6,Re8,Rad1,Nc6,Rfe1,Bf5,Qf4,dxe5,Nxe5,Nxe5,Rxe5,Qd6,Rde1,Be6,h4,Bf8,h5,Bxh6,Qxh6,Bd7,hxg6,fxg6,Bc4+,Kh8,Rxe8+,Rxe8,Rxe8+,Bxe8,Qe3,Qd1+,Bf1,Bb5', 'Qe5+,Kg8,Qxb5', 'https://lichess.org/training/y2Suo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y2TkD', 'Rapid', 'VictorvanderKloet', 1868, 'philodendron68', 2278, 'Nc3,d5,d4,Bf5,Bf4,c6,e3,Nf6,Nf3,e6,h3,Bd6,Ne5,Qc7,Bh2,Nbd7,f4,Ne4,Bd3,f6,Nxd7,Qxd7,Nxe4,dxe4,Be2,Bg6,Bh5,Bxh5,Qxh5+,g6,Qe2,O-O,O-O,Qc7,Qc4,Qe7,Qe2,Rf7,c4,c5,d5,f5,g4,exd5,cxd5,a6,a4,Raf8,b3,Kh8,Rad1,Qh4,Qg2,g5,Bg3,Qh6,Be1,gxf4,Bc3+,Rg7,Bxg7+,Qxg7,exf4,fxg4,Qxg4,Qxg4+,hxg4,Bxf4,Kg2,e3,Rde1,Kg7,Rxf4,Rxf4,Rxe3,Rxg4+,Kf3,Rd4,Re5,Kf6,Rh5,Kg6,Re5,Rd3+,Ke4,Rxb3,d6,Rb1', 'd7,Re1+,Kd5', 'https://lichess.org/training/y2TkD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y2vc1', 'Rapid', 'FM Elias19999', 2414, 'arp1950', 2356, 'e4,c5,Nf3,g6,d4,Bg7,dxc5,Qa5+,c3,Qxc5,Na3,Nf6,Be3,Qc6,Nb5,b6,e5,Ng4,Nfd4,Nxe3,Nxc6,Nxd1,Nc7+,Kf8,Nxa8,Nxc6,Rxd1,Bxe5,g3,Bb7,Bg2,Bxa8,Rxd7,Bd6,O-O,Kg7,Bxc6,Bxc6,Rxa7,Bf3,Re1,Rc8,Re3,Bc6,a4,Ra8,Rxa8,Bxa8,Re1,Kf8,b4,Ke8,Rb1,Kd7,c4,Bc6,a5,bxa5,c5,Bb8,b5,Be4,Rd1+,Kc7,Re1,Bd5,Rxe7+,Kd8,Re1,a4', 'Rd1,Kc7,Rxd5', 'https://lichess.org/training/y2vc1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y2Wkh', 'Blitz', 'Colin20', 2382, 'alexgr1953', 2211, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Nbd7,Qe2,Be7,O-O-O,Qc7,g4,b5,a3,Bb7,Bg2,h6,Bh4,g5,fxg5,Nh7,Kb1,hxg5,Bg3,Nhf8,Rhf1,Ng6,Qf2,Nde5,Qe2,O-O-O,Nb3,Kb8,Na2,Rc8,Be1,Rxh2,Rh1,Rxh1,Bxh1,Nf4,Qd2,Nc4,Qf2,Bf6,Nd4,Qb6,c3,e5,Nf5,Qxf2,Bxf2,Bd8,b3,Nxa3+,Kb2,b4,Nxb4,Nb5,c4,Ba5,Nd5,Nd4,Nxd4,exd4,Bxd4,Bxd5,exd5,Re8,Ka3,Re2,b4,Bc7,Bf3,Rh2,Re1,Rh3,Re3,Ng6,Ka4,Kb7,Be2,Rh2,Bd3,Nf4,Bf5,Ra2+,Kb3,Rd2,Bc3,Rf2,Re7,Kb8,Rxf7,Nd3,Rf8+,Ka7,Rf7', 'Nc1+,Ka4,Ra2#', 'https://lichess.org/training/Y2Wkh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y2X0N', 'Blitz', 'FM Ichatdll', 2490, 'Gripskiddley', 1984, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,O-O-O,c3,Nf6,O-O,Qh5,h3,e5,Bg5', 'Bxf3,Bxf3,Qxg5', 'https://lichess.org/training/y2X0N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y2XF9', 'Classical', 'Pimapom', 2106, 'MarceloRe1969', 1992, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,g6,Nc3,Bxa6,e4,Bxf1,Kxf1,d6,g3,Bg7,Kg2,O-O,f4,Nbd7,Nf3,Qa5,Bd2,Qa6,a4,Qd3,Qb1,Qxb1,Rhxb1,c4,Be3,Rfb8,Nd2,Rb4,a5,Ne8,a6,Nc7,a7,f5,Ra4', 'Bxc3,Rxb4,Bxb4', 'https://lichess.org/training/y2XF9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y2zZi', 'Rapid', 'vlad_1734', 1851, 'Sajjadfaizi', 1882, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Bxf7+,Kxf7,Nxe5+,Ke8,c3,d6,cxd4,dxe5,dxe5,Be6,d4,Bb4+,Nc3,c6,a3,Bxc3+,bxc3,Ne7,Bg5,h6,Qh5+,Kd7,Be3,Rc8,Rd1,Kc7,d5,cxd5,Bxa7,b6,Bxb6+,Kxb6,Rb1+,Ka7,Qe2,Rb8,O-O,Rxb1,Rxb1,Qc7,Qb5,Rb8', 'Qa4+,Qa5,Qxa5#', 'https://lichess.org/training/Y2zZi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y31TD', 'Blitz', 'janosneumann', 1747, 'gylhatai', 1749, 'e4,e6,Nf3,c5,d4,d5,e5,Nc6,Bb5,Bd7,Bxc6,Bxc6,Be3,cxd4,Bxd4,Ne7,Nc3,Nf5,O-O,Be7,Ne2,O-O,Ng3,Nxg3,fxg3,f6,Nh4,fxe5,Rxf8+,Qxf8,Bxe5,Bf6,Bxf6,Qxf6,Qf3,Qxb2,Rf1,Qxc2', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/y31TD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y33Oo', 'Blitz', 'Coup_de_Grace', 2543, 'FM Den78', 2425, 'd4,d5,Nf3,c6,c4,e6,Nc3,dxc4,Bg5,Qb6,Rb1,c5,e3,cxd4,Qxd4,Qxd4,Nxd4,a6,Bxc4,b5,Be2,Bb7,O-O,Nf6,Bxf6,gxf6,Rfd1,Be7,Bf3,Bxf3,Nxf3,Nc6,Rd2,Rd8,Rbd1,Rxd2,Rxd2,h5,Kf1,h4,Ke2,h3,g3,Rh5,Nd4,Nxd4+,Rxd4,Bc5,Rd1,Ke7,Ne4,Bb6,a3,Rh8,f3,f5,Nf2,Bc7,Rc1,Be5,Rc2,a5,f4,Bd6,Nd3,b4,axb4,axb4,Rc6,Rb8,Ra6,Rb7,Kf3,b3,g4,Rc7,gxf5,exf5,Rb6,Rc2,Kg3,Re2,Rxb3,Rxe3+,Kf2,Re4,Kf3,Ke6,Rb6,Kd5,Rb5+,Ke6,Rb6,Kd5,Rb5+,Kc4,Rb6,Rd4,Ne5+,Bxe5,fxe5,Kd5,Rd6+,Kxe5,Rxd4,Kxd4,Kf4,Kc4,Kxf5,Kb3', 'Kg4,Kc4,Kxh3', 'https://lichess.org/training/Y33Oo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y34CR', 'Rapid', 'TheEldest', 2020, 'drsushil', 1959, 'e3,c5,d4,cxd4,exd4,d5,Nf3,Nc6,Bb5,e6,Bg5,Qa5+,Nc3,Bb4,Bxc6+,bxc6,Bd2,Ba6,a3,Bd6,Ne4,Qc7,Nc5,Bxc5,dxc5,Nf6,b4,O-O,Bc3,Qf4,Be5,Qe4+,Kd2,Ng4,Re1,Qf5,Bg3,d4,h3,Nxf2,Re5,Nxd1,Rxf5,exf5,Rxd1,Rfe8,Nxd4,Rad8,Kc1,Be2', 'Nxe2,Rxd1+,Kxd1', 'https://lichess.org/training/y34CR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y35zR', 'Rapid', 'Djolee88', 1620, 'MirekVeverka', 1735, 'e4,e5,Nf3,d6,Bc4,Be7,h3,Nf6,d3,O-O,Bg5,Nc6,Nh4,Bd7,g3,Kh8,f4,exf4,gxf4,a6,Rg1,b5,Bd5,Nxd5,exd5,Nd4,Qh5,Bxg5,fxg5,f6,Nd2,Nxc2+,Kd1,Nxa1,Ng6+,Kg8,Nxf8,Qxf8,gxf6,Qxf6,Ne4,Qxb2,Rf1,Qc2+,Ke1,Qxd3', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/y35zR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y3bmA', 'Rapid', 'kjhhlrf', 1665, 'formoza', 1657, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,c3,Nc6,Bb5,Nf6,O-O,Be7,Re1,O-O,Bxc6,bxc6,d3,c5,h3,Bb7,Be3,Re8,Nbd2,Nd5,Nf1,Nxe3,Rxe3,Bf6,Rxe8+,Qxe8,Qc2,Bxf3,gxf3,Qe6,Kg2,Be5,Ng3,Qg6,Re1,h5,h4,Qf6,Rh1,g6,Ne4,Qf4,c4,Rb8,Nc3,a6,Nd5,Rxb2', 'Qxb2,Bxb2,Nxf4', 'https://lichess.org/training/Y3bmA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y3bPL', 'Rapid', 'castiloj', 1947, 'uzair_catur', 1956, 'e4,d6,d4,c6,Nf3,e6,Nc3,Be7,Bd3,Nd7,e5,dxe5,Nxe5,Ngf6,Bg5,O-O,Qf3,Nb6,Ne2,Nbd5,Qh3,g6,Bh6,Re8,Qg3,Bd6,Nf4,Nxf4,Bxf4,Nh5,Qf3,Nxf4,Qxf4,f6,Bxg6,hxg6,Qh6,fxe5,Qxg6+,Kf8,Qh6+,Kf7,Qh7+,Kf6,Qh6+,Ke7', 'Qg7#', 'https://lichess.org/training/y3bPL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y3EVe', 'Classical', 'seba0611', 1982, 'Kennedy_Mayor', 1911, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,Qc2,d5,exd5,Nxd5,O-O,O-O,d4,exd4,Rd1,Bg4,Qe4,Nf6,Qd3,Bxf3,Qxf3,Ne5,Qe2,Nxc4,Qxc4,Qd6,Rxd4,Qe5,Nd2,Bd6,Nf3,Qh5,Rh4,Qg6,Bf4,Bxf4,Rxf4,Rad8,Rd4,Rxd4,Qxd4,b6,Rd1,Re8,Qd8,Kf8,Ne5,Qc2,Nd7+,Nxd7,Qxd7,Qxb2,Qxc7,Qxa2,h3,g6,Rd7,a5,c4,Qb1+,Kh2,Qf5,Rd8,Qxf2', 'Qd6+,Kg8,Rxe8+', 'https://lichess.org/training/y3EVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y3gqe', 'Classical', 'GaloGalarza', 1856, 'RonnyCR82', 1770, 'd4,d5,Nf3,Nc6,Nc3,Nf6,e3,a6,Bd2,Bf5,a3,e6,h3,h6,Bd3,Bd6,Bxf5,exf5,O-O,Qd7,Re1,g5,Nh2,O-O-O,Ne2,h5,Rc1,h4,c4,g4,c5,Bxh2+,Kxh2,g3+,fxg3,hxg3+,Kg1,Ne4,Nf4,Rdg8,Rf1,Qe7,Nxd5,Qh4,Be1,Nf2,Bxf2', 'gxf2+,Rxf2,Qxh3', 'https://lichess.org/training/y3gqe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y3GXc', 'Blitz', 'IM Mersad_98', 2567, 'GM black_knight22', 2599, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,a6,Bg5,Ne7,Nc3,Nbc6,Qe3,h6,Bh4,g5,Bg3,Bg7,O-O-O,O-O,Bc4,Be6,Nd5,Ng6,h4,g4,h5,Nge5,Nxe5,Nxe5,Bb3,a5,a4,b5,axb5,a4,Ba2,a3,bxa3,c6,bxc6,Nxc6,Rd3,Qa5,Bxd6,Rfc8,f4,Qa4,Nb6,Qb5,Bxe6,Qb2+,Kd2,Nb4,Nxc8', 'Qxc2+,Ke1,Nxd3+', 'https://lichess.org/training/Y3GXc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y3Jkn', 'Rapid', 'Baxo', 1996, 'Alsdf', 1755, 'e4,e5,Bc4,Nf6,d3,Nc6,a3,Bc5,Nf3,O-O,O-O,a6,h3,d6,Bg5,h6,Bh4,Na5,Ba2,Nc6,Nc3,Nd4,Nxd4,Bxd4,Qd2,g5,Bg3,Nh5,Bh2,Kg7,Rab1,f5,exf5,Bxf5,Ne2,Bb6,Ng3,Nxg3,Bxg3,Qe7,Rbe1,Be6,Bxe6,Qxe6,d4,Bxd4', 'Qxd4,exd4,Rxe6', 'https://lichess.org/training/y3Jkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y3mBP', 'Blitz', 'FastMate', 1980, 'bulatte', 2055, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c3,Bg4,Bd3,e6,h3,Bh5,Bf4,Nf6,Nbd2,Bd6,Bg3,Bxg3,fxg3,Qd6,Kf2,Bg6,Bxg6,hxg6,Re1,O-O-O,Ne5,Nxe5,dxe5,Qb6+,Kf1,Nd7,c4,Qxb2,cxd5,Nxe5,Rb1,Qd4,Qb3,Qd3+,Qxd3,Nxd3,Re3,Rxd5,Nc4,Rhd8,Kg1,Nc5,Kh2,g5,Na5,b6,Rc3,bxa5,Rbc1,Kb7,Rxc5,Kb6,R5c2,Rd2', 'Rb1+,Ka6,Rc6#', 'https://lichess.org/training/Y3mBP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y3mNo', 'Rapid', 'Jazzit', 2045, 'KingDelCrepone', 2039, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bg4,Be2,Bb4+,c3,Bd6,O-O,O-O,Qb3,Qc7,h3,Bh5,Be3,Nd7,Rfe1,Rfe8,g4,Bg6,Nh4,Bh2+,Kg2,Be4+,Bf3,Bxf3+,Nxf3,Bf4,c4,b6,Rad1,Rad8,Nh4,c5,d5,Bxe3,Rxe3,Qf4,Rf3,Qe4,Rd3,Ne5,Re3,Qxc4', 'Rxe5,Qxb3,Rxe8+', 'https://lichess.org/training/y3mNo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y3nnr', 'Blitz', 'gient', 1711, 'Mistelbach', 1634, 'c4,g6,Nc3,Bg7,Nf3,f6,d3,e6,g3,d6,Bg2,c6,O-O,b6,Re1,a6,Bf4,e5,Bd2,Bb7,Qb3,Ne7,Ne4,Nf5,Ba5,Nd7,Bd2,a5,a4,Rb8,g4,Nd4,Nxd4,exd4,Nxd6+,Ke7,c5,Nxc5', 'Qf7+,Kxd6,Bf4#', 'https://lichess.org/training/y3nnr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y3QeZ', 'Classical', 'SE92', 1872, 'Mangobaum', 1878, 'Nf3,Nc6,d4,d5,e3,Bf5,Bb5,e6,O-O,Bg4,Nbd2,Bd6,h3,Bh5,a3,Qf6,Bxc6+,bxc6,b3,Nh6,c4,g5,c5,Be7,Bb2,Rg8,Qc2,g4,hxg4,Bxg4,Qxh7,Bxf3,Nxf3,Qxf3', 'Qxg8+,Nxg8,gxf3', 'https://lichess.org/training/Y3QeZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y3qJE', 'Rapid', 'Ndamulelo44', 1820, 'poissonsale', 1840, 'Nc3,c5,Nf3,d6,e3,Nf6,Bb5+,Bd7,Bc4,g6,Ng5,e6,Qf3,d5,Nxd5,exd5,Bxd5,Nxd5', 'Qxf7#', 'https://lichess.org/training/y3qJE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y3RyY', 'Rapid', 'GodlikeMoves', 1966, 'idler76', 1804, 'e4,c5,Nf3,e6,c3,Nc6,d4,d5,exd5,exd5,Be2,Nf6,Bg5,Be7,O-O,O-O,Bd3,Ne4,Bxe7,Qxe7,Re1,Bf5,dxc5,Qxc5,b4,Qd6,Bxe4,Bxe4,Rxe4,Rfd8,Rh4,Ne5,Nbd2,Nd3,Qc2,Nf4,Qxh7+,Kf8,Rxf4,Qxf4,Re1,f6,Nh4,Qxd2', 'Ng6+,Kf7,Re7#', 'https://lichess.org/training/Y3RyY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y3sju', 'Blitz', 'I_love_you0', 2086, 'GM ARM-777777', 2678, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,a5,Nc3,a4,Nd2,a3,bxa3,Nf6,Rg1,Bxa3,Bxa3,Rxa3,Nb5,Ra8,Nd6+,Kf8,g4,Ne8,N2c4,Nxd6,Qxd6+,Qe7,Bd3,Qxd6,Nxd6,g6,h4,Ke7,Nc4,d6,Kd2,Be6,Rgb1,Ra7,Rb6,Bxg4,Rab1,Bc8,Ne3,Rf8,Nd5+,Kd8,Bb5,Bd7,Bxc6,Bxc6', 'Rxc6,bxc6,Rb8+,Kd7,Rxf8', 'https://lichess.org/training/Y3sju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y3vAD', 'Rapid', 'marosko5', 1775, 'ouioui4', 1701, 'e4,c5,d4,cxd4,c3,d3,Bxd3,Nc6,Nf3,d6,Bf4,Nf6,Nbd2,g6,O-O,Bg7,Nb3,O-O,Nbd4,e5,Nxc6,bxc6,Bg5,Qb6,b3,Nd7,Bc4,Nc5,Be3,Qc7,Bxc5,dxc5,Qe2,Qa5,Qe3,Rd8,Rad1,Ba6,Rxd8+,Rxd8,Bxa6,Qxa6,Qxc5,Qxa2,Qxc6,Qxb3,Qc7,Rd1,Qxa7,Qb1,Qa6,Qc2,Qc8+,Bf8,Qc4,Rc1,Ng5,Rxf1+,Qxf1,Qxc3,Nf3,Bb4,h3,f6,Qa6,Qc1+,Kh2,Qf4+,Kg1,Kg7', 'Qb7+,Kh6,Qxb4', 'https://lichess.org/training/Y3vAD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y3WnU', 'Classical', 'Stevarino', 1854, 'oldparson', 1859, 'e4,c5,b4,cxb4,d4,d5,exd5,Qxd5,Bb2,e6,Nf3,Nf6,Be2,b6,O-O,Bb7,c4,bxc3,Nxc3,Qd8,Rc1,a6,Re1,b5,Qb3,Nd5,Ne5,Nc7,Bf3,Bxf3,Nxf3,Be7,Ne4,O-O,Qc3,Nd5,Qb3,Nd7,Ne5,N7b6,Nc6,Qe8,Nxe7+,Qxe7,Nc5,Nc4,Ba1,Qg5,Ne4,Qg6,a4,b4,Rxc4,a5,Ng3,h5,Rc5,h4,Ne2,Qg5,Bb2,Qd2,Rcc1,Rac8,Rcd1,Qg5,Rd3,Rc7,Bc1,Qg4,Rf3,Rfc8,Bf4,Nxf4,Nxf4,Rc1,Qe3,R1c3,Nd3,b3,h3,Qh5,Qf4,Rc2,Nc5,b2,Rb1,Qh6,Qxf7+,Kh7,Nd3,Rc1+,Rxc1', 'Rxc1+,Kh2,b1=Q', 'https://lichess.org/training/Y3WnU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y3wo9', 'Blitz', 'Drauger', 1737, 'SaltyCrocodile', 1744, 'd3,e5,f4,exf4,Bxf4,d5,Nf3,c5,Nbd2,Nf6,g3,Bd6,Bxd6,Qxd6,Bg2,O-O,O-O,Bg4,c3,Nc6,Qc2,Ne5,Nxe5,Qxe5,e4,dxe4,Nxe4,Nxe4,Bxe4,f5,Bf3,Bxf3,Rxf3,Rad8,Raf1,g5,d4,cxd4,cxd4,Qxd4+,Kh1,Qd2,Qb3+,Kh8,Rxf5,Rxf5,Rxf5,Qe1+,Kg2,Rd2+,Kh3,g4+,Kxg4,Qe4+,Rf4,Qe2+,Qf3,Qe6+,Rf5,Rd4+,Kh3,Kg7,Qxb7+,Kg6,g4,Rd3+,Kh4', 'Qe1+,Rf2,Qxf2#', 'https://lichess.org/training/Y3wo9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y3WSd', 'Rapid', 'GaURavsHriVaStAv', 1830, 'AhadUddinOntor', 1805, 'd4,d5,c4,c5,dxc5,d4,e3,e5,exd4,exd4,Nf3,Bxc5,Bd3,Nc6,a3,a5,O-O,Nf6,Re1+,Be7,Bd2,O-O,Qc2,Bg4,Ng5,h6,Ne4,Ne5,f3,Nxd3,Qxd3,Nxe4,Qxe4,Be6,Qd3,Qc7,b3,Rfd8,a4,g6,g4,Kg7,Na3,f5,Nb5,Qc6,Nxd4,Rxd4,Qxd4+,Bf6,Bxh6+,Kf7,Qe3,fxg4,Rad1,gxf3,Rf1,Rh8,Bf4,g5,Bxg5,Bxg5,Qxg5', 'Rg8,Qxg8+,Kxg8', 'https://lichess.org/training/Y3WSd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y3zeq', 'Rapid', 'joeliesoedarieyanto', 1842, 'naborjs', 1995, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,d6,O-O,Bg4,c3,Qd7,a4,a5,Bg5,Nc6,Bb5,h6,Bh4,g5,Bg3,Qe7,Bxc6+,bxc6,Nbd2,Bb6,Qc2,Nh5,d4,Nf4,Bxf4,gxf4,h3,Bd7,Rae1,Rg8,Kh2,Qe6,Rh1,Qg6,Reg1,f5,Nh4', 'Qg3+,fxg3,fxg3#', 'https://lichess.org/training/Y3zeq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y40rZ', 'Rapid', 'muslim70', 2104, 'Ivan-Polyakov', 2064, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5a3,Nf6,Nc3,Be7,Nc2,h6,Ne3,O-O,Ned5,Nxd5,cxd5,Nd4,Be3,Bf6,Be2,Nxe2,Qxe2,b5,a3,Bg5,O-O,Bf4,Bxf4,exf4,Qh5,Kh7,h4,g6,Qf3,Qxh4,Rfe1,Bd7,e5,dxe5,Rxe5,Bf5,Ne2,h5,Nxf4,Rfe8,Rae1,Rxe5,Rxe5,Rc8,g3,Rc1+,Kg2', 'Qh1#', 'https://lichess.org/training/y40rZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y42RH', 'Rapid', 'kasprsky2019', 2098, 'ronnie_cataroja', 2063, 'e4,c5,Nf3,Nc6,c3,e5,d4,cxd4,cxd4,exd4,Nxd4,Bc5,Nxc6,bxc6,Nc3,Ne7,Bc4,O-O,Bg5,Bb7,O-O,h6,Bh4,g5,Bg3,d5,exd5,cxd5,Bd3,f5,Qh5,Kh7,h4,Ng8,Rfe1,d4,Na4,Qd5,f3', 'Nf6,Qxg5,hxg5', 'https://lichess.org/training/y42RH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y46dC', 'Rapid', 'Noerk', 1802, 'vtjvftgvut', 1807, 'd4,d5,Nf3,Nf6,e3,Bf5,Be2,c5,Nbd2,Nc6,a3,a5,O-O,e6,c3,Bd6,dxc5,Bxc5,Nd4,Bg6,Bb5,Qc7,N2f3,O-O,b4,axb4,cxb4,Bxb4,Nxc6,bxc6,Bd3,e5,Bxg6,fxg6,Bb2,Bd6,h3,e4,Nd4,Qd7,Qd2,Rfd8,Rfc1,c5,Ne2,Rab8,Bxf6,gxf6,Qxd5+,Kg7,Qxe4,Be5,Rab1,Rb2,Rxb2', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/Y46dC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y46rg', 'Rapid', 'ROH121212', 1792, 'sarfaraz_csir', 1787, 'e4,e5,Nf3,Qf6,Bc4,c6,d4,exd4,Qxd4,h6,O-O,Bb4,Bxf7+,Qxf7,Qxb4,Ne7,Re1,O-O,Ne5,Qxf2+,Kh1,Re8,Qb3+,Kh7,Qe3,Qxc2,Nc3,Rf8,Nd3,Ng6,Bd2,Nf4,Rac1,Qxd3,Qc5,Ne6,Qe3,Qd6,e5,Qc7,Qe4+,Kh8,Rf1,Qd8,Rf3,Na6,Rcf1,Rxf3,Rxf3,Nac5,Qg6,Qg8', 'Bxh6,gxh6,Qxh6+', 'https://lichess.org/training/y46rg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y4cZa', 'Blitz', 'yodasri', 1602, 'erenalchn', 1564, 'e4,c6,Nf3,d5,e5,Bf5,d4,f6,exf6,Nxf6,Ne5,Nbd7,Nf3,e6,Bd3,Qa5+,c3,Bg6,Bxg6+,hxg6,O-O,O-O-O,Bg5,Be7,Qc2,Rde8,Qxg6,Ne4,Bxe7,Rxe7,Nbd2,Ndf6,Nxe4,Nxe4,Ne5,Rh6,Qg4,Qd8,Qf4,Qh8,Nf7', 'Rxf7,Qxf7,Rxh2,Qg8+,Qxg8', 'https://lichess.org/training/Y4cZa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y4Er4', 'Rapid', 'study_chess', 1668, 'wodapn', 1675, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,e6,Bg5,h6,Bh4,Be7,h3,Nc6,Bb5,O-O,Bxc6,bxc6,Ne5,c5,dxc5,Qxd1+,Rxd1,Bxc5,Bxf6,gxf6,Nf3,Bb7,O-O,Bxf3,gxf3,f5,Na4,Bb6,Rd7,Rfd8,Rfd1,Rxd7,Rxd7,Kg7,b4,Kf6,c4,a5,Nxb6,cxb6,a3,Rc8,bxa5,bxa5,Rd4,Ke5,Rh4,Rh8,Kf1,Kf6,Ke2,e5,c5,f4,c6,Rc8,Rxh6+,Ke7,Kd3,f6,Ke4,Rxc6,Kf5,a4,h4,Rc3,Rxf6,Rxf3,Re6+,Kd7,Rxe5,Rxf2,h5,Kd6,Re4,f3,Rxa4,Rh2,Kg4,f2,Rf4,Rg2+,Kh3,Rg5,Kh4,Ra5,a4', 'Rxa4,Rxa4,f1=Q', 'https://lichess.org/training/y4Er4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y4fKv', 'Blitz', 'zidani', 2262, 'NM datway', 2306, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,Bxd4,Nxd4,Nxd4,Bg5,d6,f4,Qe7,Na3,c6,c3,Ne6,Bxe6,Bxe6,fxe5,dxe5,b4,Qd7,Bxf6,gxf6,Qe2,O-O-O,b5,Qd3,Qb2,Qxe4,bxc6,Qxc6,Rxf6,Rhg8,c4,Qc5+,Kh1,Kb8,Rb1,Qc6,Rf2,Rd4,Nb5,Rdg4', 'Qxe5+,Ka8,Nc7+', 'https://lichess.org/training/y4fKv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y4FSM', 'Rapid', 'RodyginMP', 2010, 'horsehead', 2094, 'e4,c5,Bc4,e6,a3,d5,exd5,exd5,Ba2,Nf6,Ne2,Bg4,f3,Bf5,O-O,Be7,Ng3,Bg6,d3,O-O,f4,h6,f5,Bh7,c3,Bd6,Nh5,Nxh5,Qxh5,d4,cxd4,cxd4,Nd2,Nd7,Ne4,Nf6,Qf3,Nxe4,dxe4,Be5,Bf4,Qd6,Bxe5,Qxe5,Bd5,Rab8,Rfd1,Rfd8,Rd3,Kf8,Rad1,f6,Rxd4,Bg8,Qb3,Bxd5,Rxd5,Rxd5,Qxd5,Qe7,Qd6,Qxd6,Rxd6,Re8,Rd4,Re5,Kf2,g6,fxg6,Kg7,Kf3,Kxg6,Rd7,Rb5,b4,a5,Rd4,b6,Rd5,Rxd5,exd5,Kf5,Ke3,Ke5,bxa5,bxa5,d6,Kxd6,Ke4,Ke6,g4,Kd6', 'Kf5,Ke7,Kg6', 'https://lichess.org/training/y4FSM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y4hoQ', 'Rapid', 'wind1982', 2111, 'goraja', 2028, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,a3,Nge7,b4,Ng6,Bb2,Bg4,Nxd4,Ncxe5,Nd2', 'Nd3+,exd3,Bxd1', 'https://lichess.org/training/y4hoQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y4IEV', 'Rapid', 'Abdulmalik2000', 2016, 'jangan_asal_banned', 2108, 'Nf3,Nc6,b3,e5,Bb2,d6,e3,Be7,c4,Nf6,Nc3,b6,d4,exd4,exd4,O-O,Bd3,Bg4,h3,Bxf3,Qxf3,Nxd4,Qg3,c5,O-O,d5,Rad1,dxc4,Bxc4,Qc8,Rfe1,Qb7,Nb5,Nxb5,Bxb5,Rad8,Qe5,Rxd1,Rxd1,a6,Rd7,Qe4,Rxe7,Qxe5,Rxe5,axb5,Re7,Nd5,Rd7,Nf4,Rb7,Nd5,g3,c4,Rd7,c3,Bc1,Nb4,a3,Na2,Be3,Rc8,Rb7,c2,Rxb6,c1=Q+,Bxc1,Nxc1,Rxb5,h6,a4,Ne2+,Kf1,Nd4,Rb6,Rc1+,Kg2,Ra1,g4,Nxb3,Rxb3,Rxa4,Kg3,g5,h4,Kg7,h5,Rf4,Rb6,Rf6,Rb5,Rf4,Rf5', 'Rxf5,gxf5,Kf6,Kg4,Ke5', 'https://lichess.org/training/y4IEV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y4ksI', 'Rapid', 'EgorCh101', 1622, 'mehmetkutaybdr', 1637, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,d3,c5,c3,b6,cxd4,cxd4,O-O,Nf6,Na3,d6,Nb5,Ng4,Nxd4,Bd7,Qf3,Qe7,Bd5,Rc8,h3,h5,hxg4,hxg4,Qe3', 'Qh4,Bxf7+,Kxf7', 'https://lichess.org/training/y4ksI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y4Kwf', 'Rapid', 'Hayou76', 1729, 'Francis_capa', 1831, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,Nf6,e3,Ne4,Qc2,Nc6,Bd3,Bxc3+,bxc3,f5,Ba3,g5,cxd5,exd5,c4,g4,Ne5,Nxe5,dxe5,c6,cxd5', 'Qa5+,Kf1,Qxa3', 'https://lichess.org/training/Y4Kwf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y4l4m', 'Blitz', 'PilotSolapeters', 1547, 'BEEPboop6', 1505, 'e4,Nc6,Nf3,e5,Bb5,a6,Bxc6,bxc6,Nxe5,Qe7,Nf3,Qxe4+,Qe2,Qxe2+,Kxe2,a5,Re1,Ba6+,d3,Be7,Kf1,Nh6,Bxh6,gxh6,Nd4,c5,Nf5,c4,Nxe7,cxd3,Ng6+,Kd8,Nxh8', 'd2+,c4,Bxc4+,Kg1,dxe1=Q#', 'https://lichess.org/training/Y4l4m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y4LNZ', 'Rapid', 'bramikjem', 1774, 'matrixking', 1670, 'e4,c5,Nf3,d6,Bc4,Bg4,Nc3,e6,h3,Bh5,d3,Nf6,g4,Bg6,e5,d5,Bb5+,Nfd7,Ng5,a6,Bxd7+,Nxd7,h4,h6,h5,Bh7,Nxh7,Rxh7,Bf4,d4,Ne4,f5,exf6,Nxf6,Be5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Ke2,Ke7,Qd2,Rf8,Raf1,Qf3+,Ke1,Qxg4,Qa5,Qf4,Qxc5+,Qd6,Qa7,Qb4+,Kd1,Qxb2,Qc5+,Ke8,Qd6,Qa1+,Kd2,Qc3+,Kc1,Qa1+,Kd2,Qc3+,Kd1,Qc8,Rh4,Rhh8,Re4,Rf6,Qxd4,Rhf8,Re2,Kf7,Rg1,Kg8,f4,Kh8,Reg2,Qc6,Rxg7,Qf3+,Ke1,Qxf4,Qd7,Qe3+,Kd1', 'Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/Y4LNZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y4m1R', 'Blitz', 'Fly1ng_DuTchm3n', 1974, 'tropla', 1928, 'c4,e5,Nc3,f5,d3,Nf6,g3,c6,Bg2,d6,e4,Be7,Nge2,O-O,exf5,Bxf5,d4,e4,d5,Nbd7,Nd4,Bg6,Ne6,Qe8,Nxf8,Qxf8,O-O,Ne5,Re1,Nfg4,Nxe4,Bxe4,Bxe4', 'Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/Y4m1R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y4o5E', 'Rapid', 'cauexadrez', 2062, 'SetraK', 1725, 'e4,e6,d4,d5,Nc3,a6,a4,Bb4,Bd3,dxe4,Bxe4,Nf6,Bd3,Nd5,Ne2,Nxc3,Nxc3,Nc6,Be3,b6,Be4,Bb7,O-O,Na5,Bxb7,Nxb7,Ne4,O-O,c3,Bd6,Qf3,Qd7,Nf6+,gxf6,Bh6,f5,Qxb7,Rfc8,f4,f6,Rae1,Re8,Rf3,Kf7,Rg3,Rg8,Qf3,c6,Qh5+,Rg6,Rge3,Re8,b4,Kg8,h3,b5,axb5,axb5,Kh1,Qf7,g4,fxg4,hxg4,f5', 'gxf5,Qxf5,Qxf5,exf5,Rxe8+', 'https://lichess.org/training/Y4o5E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y4q5e', 'Rapid', 'AlfilAislado', 1921, 'Red_Wings', 1855, 'e4,c5,Nf3,Nc6,d3,g6,Be3,b6,c3,a5,Qb3,Bg7,Ng5,e6,Nd2,Nf6,g3,O-O,Bg2,a4,Qc2,d5,exd5,exd5,O-O,Bb7,c4,d4,Bf4,Nh5,Nde4,Nxf4,gxf4,Nb4,Qd2,f5,Nf6+,Bxf6,Bxb7,Ra7,Ne6,Qd6,Nxf8,Rxb7,a3,Nc6,Qe2,Kxf8,Rfe1,Re7,Qf3,Rg7,Re2,g5,Rae1,gxf4+,Kh1,Be5,Qh5,Ne7', 'Rxe5,Qc6+,f3', 'https://lichess.org/training/Y4q5e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y4QvN', 'Rapid', 'Bochnek', 1661, 'aherve', 1679, 'Nf3,f5,d3,d6,e4,e5,exf5,Bxf5,Be2,Nf6,O-O,Be7,h3,O-O,b3,Qe8,Nbd2,Nc6,c3,Qg6', 'Nh4,Qf7,Nxf5', 'https://lichess.org/training/Y4QvN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y4tNa', 'Rapid', 'Limosley', 1760, 'chrisgm2009', 1770, 'd4,b6,e4,Bb7,Nc3,e6,f4,Bb4,d5,Nf6,Bd2,O-O,dxe6,fxe6,e5,Bxc3,bxc3,Ne4,Ne2,Qh4+,g3,Qh5,Bg2,d5,Nd4,Qe8,Qg4,Nc5,Bh3,Bc8,c4,dxc4,Bb4,Nba6,a3,Rf7,Bg2,Rb8,Nc6,Bb7,Nxb8,Bxg2,Rg1,Qxb8,Rxg2,Qb7,Rd2', 'Qh1+,Ke2,Qxa1', 'https://lichess.org/training/y4tNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y4TZp', 'Rapid', 'Schachlupo', 1844, 'QuarinSoda', 1977, 'd4,d6,Nf3,g6,b3,Bg7,Bb2,c5,e3,Nc6,Be2,cxd4,Nxd4,Nxd4,Bxd4,Bxd4,Qxd4,Nf6,O-O,O-O,c4,Bd7,Bf3,Bc6,Nd2,a6,Rfd1,Rc8,Rac1,Qa5,Rc2,Bxf3,Nxf3,b5,Rdd2,bxc4,Rxc4,Rxc4,Qxc4,Qb5,Rc2,Rb8,h3,d5,Qc7,e6,Ne5,Rf8,Qe7,Ne4,f3,Ng3,Kh2,Nf5,Qf6,Qb8,e4,dxe4,fxe4,Nd4,Rc4,Qd6,g3', 'Qxe5,Qxe5,Nf3+,Kg2,Nxe5', 'https://lichess.org/training/y4TZp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y4ViY', 'Rapid', 'durgaprasad', 1625, 'Zimboy', 1867, 'e4,c5,Nf3,d6,Nc3,Nc6,Bb5,Bd7,O-O,Nf6,d3,e6,Bg5,Be7,Bxc6,Bxc6,e5,Nd7,Bxe7,Qxe7,exd6,Qxd6,Re1,O-O,Ne4,Qf4,g3,Qf5,Nh4,Qh3', 'Ng5,Qxh4,gxh4', 'https://lichess.org/training/y4ViY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y4WNL', 'Rapid', 'Lomet', 1762, 'BornInNe4', 1809, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Bg5,Be7,h4,h6,Bf4,d5,e5,Nd7,Bb5,Qc7,Ba4,a6,Qg4,g6,Nxc6,bxc6,h5,g5,Bd2,Qxe5+,Kf1,Qc7,f4,Nc5,fxg5,hxg5,Bxg5,Bxg5,Qxg5,Bd7,h6,Qa5,Qe5,Ke7,Qg5+,Ke8,Qf6,Rh7,Qg7', 'Rxg7,hxg7,Ke7', 'https://lichess.org/training/y4WNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y4Z8R', 'Rapid', 'dragonmou', 1672, 'DanielNaufragados', 1684, 'd4,c5,dxc5,Qa5+,Nc3,Qxc5,Be3,Qa5,Bd2,g6,e3,Bg7,Ne4,Qe5', 'Bc3,Qxe4,Bxg7', 'https://lichess.org/training/Y4Z8R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y4ZVC', 'Rapid', 'Santyaga', 1703, 'So_It_Goes', 1884, 'e4,e5,Nf3,Qf6,Nc3,c6,Bc4,Bc5,a3,Qg6,O-O,d6,d4,exd4,Nxd4,Bh3,Qf3,Bg4,Bxf7+,Qxf7,Qxg4,Bxd4,Qc8+,Ke7,Qxb7+,Kf8,Qxa8,Qe8,Be3,Bxc3,bxc3,Nf6,Bxa7,Nfd7,Bxb8,Nxb8,Rab1,Kf7,Qb7+,Nd7,Qxc6,Rf8,Qxd6,Kg8,f3,Ne5,Qd5+,Kh8,a4,Ng6,a5,Nf4,Qd2,Qg6,Rb6,Qg5,Rfb1', 'Nh3+,Kh1,Qxd2', 'https://lichess.org/training/Y4ZVC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y50oq', 'Rapid', 'gilzzza', 1761, 'babuchess', 1975, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,h5,Bh7,Bf4,Ngf6,Bd3,Bxd3,Qxd3,Qa5+,c3,e6,Ne5,Be7,O-O,O-O,Qd2,Nxe5,dxe5,Rad8,Qe3,Nd5,Qf3,Nxf4,Qxf4,Bg5,Qe4,Rd5,f4,Be7,b4,Qb6+,Kh2,Rfd8,c4,Rd4,c5,Qxb4,Qf3,Bh4,Ne2,Rd3,Qg4,Be7,Rab1,Qxc5,Rxb7,Bf8,Rc1,Qd5,Nc3,Qd4,Ne2,Qe4,Nc3,Qe3,Nd1,Qe1,Rbb1,Bc5,Rxc5', 'Rxd1,Rxd1,Rxd1', 'https://lichess.org/training/y50oq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y521n', 'Rapid', 'VitamineX', 1798, 'Nitecore', 1729, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Nf3,Ngf6,Ng3,Nb6,Bd3,Bg4,h3,Bxf3,Qxf3,e6,Bd2,Be7,O-O-O,Qxd4,Bc3,Qd8,Bxh7,Qc7,Bd3,Nbd5,Bd2,O-O-O,c4,Nb4,Bb1,Rd7,a3,Na6,Bf4,Rxd1+,Rxd1,Qa5,Be3,Nc5,Bxc5,Qxc5,Qe2,b5,Bd3,bxc4,Bxc4,Kc7,Kb1,Rb8,Ka1,a5,Ba2,Bd6,Qd3,Be5,Rd2,Bxg3,fxg3,Nd5,Bb1,f6,Rc2,Qb6,Qc4', 'Ne3,Qc3,Nxc2+', 'https://lichess.org/training/Y521n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y53cd', 'Rapid', 'alextitov4', 1700, 'playfulexistence', 1741, 'd4,Nf6,Bf4,d5,e3,Bf5,c4,e6,Nc3,Bd6,Bxd6,Qxd6,c5,Qd8,Qb3,b6,cxb6,cxb6,Bb5+,Nbd7,Bc6,Rc8,Bxd7+,Qxd7,Nf3,O-O,Ne5,Qb7,O-O,Ng4,Nxg4,Bxg4,Nb5,Rfd8,Rac1,Be2,Rfe1,Rxc1,Rxc1,Bc4,Qa4,a6,Nc3,Rc8,Qa3,h5,b3,Bd3,Qb2,b5,h3,g6,Rd1,Bf5,Ne2', 'Rc2,Qxc2,Bxc2', 'https://lichess.org/training/y53cd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y54ex', 'Rapid', 'AliceBob', 1681, 'mau1673', 1651, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,b6,Bd2,Bc5,Qg3,Qf6,Nc3,Nge7,f3,d6,O-O-O,O-O,Nge2,a5,Nf4,a4,Ncd5,Nxd5,Nxd5,Qd8,Bc3,f6,a3,Be6,Bc4,Ne5,Ba2,c6,f4,Nf7,f5,Bxd5,exd5,Ne5,dxc6+,Kh8,Rhe1,Nxc6,Qf3,Ne5,Bxe5,fxe5,Rxe5', 'Qg5+,Kb1,dxe5', 'https://lichess.org/training/y54ex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y54hP', 'Rapid', 'sodel', 2165, 'withoutTroble', 1982, 'e4,c5,Nf3,Nc6,c3,e5,d4,exd4,cxd4,cxd4,Nxd4,Nxd4,Qxd4,d6,Nc3,a6,Bc4,Be6,Nd5,Ne7,O-O,Nc6,Qe3,Be7,Nxe7,Qxe7,Bxe6,Qxe6,Bd2,O-O,Bc3,f6,Rfd1,Rad8,a3,Ne5,Qd4,Qg4,Qd5+,Kh8,Bxe5,fxe5,Qxb7,Rf4,Rxd6,Rdf8,Rd3,Qe2,Rf3,Rxf3,gxf3,Qxf3,Qb6,h6,Qe3,Qg4+,Qg3,Qxe4,Rd1,Qc2,Rd7', 'Qc1+,Kg2,Qc6+,f3,Qxd7', 'https://lichess.org/training/Y54hP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y54Ya', 'Classical', 'Lore25NT', 1749, 'Moppy111', 1779, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,O-O,Bc5,d3,a6,Be3,Bxe3,fxe3,Ng4,Qe2,d6,h3,Nf6,a3,Na5,Ba2,O-O,Nd5,Nxd5,exd5,b5,Qd2,Nb7,Nh2,Nc5,e4,f5,b4,Nb7,Rf2,f4,Raf1,Qg5,Kh1,Rf6,Nf3,Qg3,Ng1,Rg6,Rf3,Qh4,Kh2,Rg3,Rxg3,Qxg3+,Kh1,Bd7,Rf3,Qh4,Ne2,Bg4,Rf1,Bxe2,Qxe2,Rf8,c3,Rf6,d4,Rg6,dxe5,dxe5,c4,bxc4,Bxc4,Qg5,Bxa6,Nd6,Bd3,Nf7,Rc1', 'f3,Qxf3,Qxc1+', 'https://lichess.org/training/y54Ya');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y557h', 'Rapid', 'DoctorKrylov', 2020, 'Ieromonakhov', 2047, 'd4,Nf6,Bf4,d6,e3,g6,Nf3,Bg7,h3,O-O,Be2,Nbd7,c4,b6,Nc3,Bb7,d5,a5,O-O,Nc5,Nd4,e5,dxe6,fxe6,Bh2,Qe7,Bf3,Bxf3,Nxf3,a4,e4,a3,b4,Ncxe4,Nxe4,Nxe4,Rc1,Nf6,Nd4,e5,Nc6,Qd7,b5,Ne4', 'Qd5+,Qf7,Qxe4', 'https://lichess.org/training/y557h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y59ev', 'Rapid', 'lipatin', 1670, 'AdrienFlynn', 1653, 'e4,Nf6,e5,Nd5,Nf3,d6,Bc4,Nb6,Bb3,Nc6,exd6,Qxd6,O-O,e6,d4,Be7,Nc3,Na5,Re1,Nxb3,axb3,Bd7,Ne5,g5,Qh5,Rf8,Bxg5,Nd5,Nxd5,Qxd5,Bxe7,Kxe7,Qh4+,Ke8,Nxd7,Kxd7,c4,Qf5,d5,e5,Re3,f6,c5,c6,d6,Rg8,Rf3', 'Qxf3,Qxh7+,Ke6', 'https://lichess.org/training/y59ev');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y5bCd', 'Rapid', 'tarkeba', 1797, 'kalinka00', 1907, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,Nbd7,c4,c6,Nc3,Be7,Be2,O-O,O-O,h6,h3,Nh7,a4,a5,Qc2,Ng5,cxd5,exd5,Ne5,Nxe5,Bxe5,Bd6,f4,Ne6,Bd3,Bb4,Qf2,c5,f5,Ng5,Qg3,f6,Bd6,Re8,Nxd5,Ne4,Bxe4,Rxe4,Ne7+,Rxe7,Bxe7,Qxe7,Rac1,b6,d5,Bb7,d6,Qd7,Rfd1,Re8,b3,Qxf5', 'd7,Rd8,Qc7,Qe4,Qxd8+', 'https://lichess.org/training/Y5bCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y5bs3', 'Rapid', 'polafanous1928', 1605, 'Galakthos', 1611, 'e4,c5,Nf3,Nc6,Nc3,e6,Bc4,Nf6,d3,d5,e5,Nd7,Bg5,Be7,Bxe7,Qxe7,Bb5,a6,Bxc6,bxc6,d4,cxd4,Qxd4,O-O,O-O,Rb8,b3,Rb4,Qd3,Nc5,Qd2,a5,a3,Rb8,b4,axb4,axb4,Rxb4', 'Nxd5,exd5,Qxb4', 'https://lichess.org/training/y5bs3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y5BZU', 'Rapid', 'aboislamchess', 1716, 'yanekk', 1719, 'e4,c5,f4,Nc6,Nf3,g6,c3,Bg7,Bb5,d6,d4,cxd4,cxd4,Nf6,d5,O-O,dxc6,Qa5+,Nc3,bxc6,Bxc6,Ba6,Bxa8,Rxa8,Bd2,Rc8,Qb3,Qc5,Rc1,Nd7,Nd5,Qxc1+,Bxc1,Rxc1+,Kf2,Rxh1,Nxe7+,Kf8,Nc6,Rf1+,Kg3,h5,Qd5,Nf6,Qxd6+,Kg8,Qd8+,Kh7,Ne7,Nxe4+,Kh3,Nf2+,Kg3,Ne4+,Kh4,Bf6+,Ng5+,Bxg5+,fxg5,Rf4+,Kh3,Nxg5+,Kg3,Rg4+,Kf2,Rf4+,Ke3,Re4+,Kf2,Re2+,Kg3,Re3+,Kf4', 'Ne6+,Kxe3,Nxd8', 'https://lichess.org/training/y5BZU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y5cBZ', 'Blitz', 'FM mysterious_expert', 2682, 'WGM Plested', 2536, 'd4,Nf6,c4,g6,Nf3,Bg7,g3,O-O,Bg2,c6,O-O,d5,Nbd2,Bf5,b3,Ne4,Bb2,dxc4,Nxc4,c5,dxc5,Bxb2,Nxb2,Nxc5,Rc1,Ne6,Nh4,Nc6,Nxf5,gxf5,Bxc6,bxc6,Qc2,Qa5,Nc4,Qb5,Na3,Qa5,Nc4,Qb5,Rfd1,Ng7,Rd7,e6,Qd2,a5,h4,a4,Qg5,axb3,axb3,c5,Ne5,Qxb3,h5,Qb2,Nd3,h6,Qxh6,Qb5,Ne5,Qxe2,Ng6,Qxh5', 'Ne7#', 'https://lichess.org/training/Y5cBZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y5er1', 'Rapid', 'Syphante', 1664, 'Mv1981', 1733, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,c6,e3,Bb4,Qb3,Qa5,Ne2,Ne4,Bf4,g5,Be5,f6,Bxb8,Rxb8,a3,b5,cxd5,exd5', 'Qxb4,Qxb4,axb4', 'https://lichess.org/training/Y5er1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y5evu', 'Rapid', 'Jonathan1981', 1720, 'matgabor', 1696, 'e4,e6,Nf3,d5,e5,c5,c3,Qb6,d4,Nc6,Be3,cxd4,Nxd4,Qxb2,Nd2,Nge7,Bb5,a6,Bxc6+,Nxc6,O-O,Bd7,Rb1,Qxc3,Rb3,Qa5,Rxb7,Nxd4,Bxd4,Qxa2,Qc1,Qa3,Qc7,Qa4,Bb6,Rc8', 'Rb8,f6,Rxc8+', 'https://lichess.org/training/y5evu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y5iAg', 'Rapid', 'vampiro7', 1614, 'mamimege', 1640, 'e4,g6,Bc4,Bg7,d3,d6,a3,Nf6,Ba2,O-O,Nc3,e6,Nf3,c6,Bd2,d5,exd5,exd5,O-O,Bg4,h3,Bxf3,Qxf3,Nbd7,Rab1,a5,Bg5,d4,Ne4,b5,Nd6', 'Ne5,Qg3,Qxd6', 'https://lichess.org/training/y5iAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y5jcN', 'Classical', 'mohammad1973', 1944, 'Saleh-2', 1744, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,c5,c3,Nc6,Bd3,Be7,O-O,O-O,Qc2,h6,Nbd2,Nh5,Bg3,Nxg3,fxg3,c4,Be2,e5,dxe5,Qc7,Rae1,Nxe5,Nxe5,Qxe5,Bd1,Bc5,Nf3,Bxe3+,Kh1,Qe7,Qe2,Re8,Nd4,Bg5,Qf2,Qf8,Ba4,Rxe1,Rxe1,Bg4,h4,Bf6,Nf5,Bxf5,Qxf5,Rd8', 'Bc2,g6,Qxf6', 'https://lichess.org/training/y5jcN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y5jey', 'Blitz', 'Porsche_Panamera', 2287, 'IM ich2', 2299, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,Nc6,Nf3,d5,cxd5,exd5,Bg5,h6,Bh4,g5,Bg3,Ne4,e3,h5,Bd3,h4,Be5,f6,Bxe4,dxe4,Qxe4,fxe5,Qg6+,Kf8,Nxg5,Qe7,O-O,Qg7,Ne6+,Bxe6,Qxe6,Rh6,Qc4,exd4,Nd5,Bd6,Rad1,Re8,exd4,Re4,Rd3,Rxd4,Rf3+,Ke8,Re1+,Kd8,Qb3,Rg6,Qxb7,Rxd5', 'Qa8+,Nb8,Qxb8+,Kd7,Qe8#', 'https://lichess.org/training/Y5jey');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y5Naw', 'Blitz', 'Stilbruch', 1576, 'Al-dru', 1610, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,Be7,d4,Rf8,Nfg5+,Kg8,O-O,exd4,Qd3,d5', 'Nf6+,Rxf6,Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/Y5Naw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y5NYk', 'Classical', 'Harry-503', 1832, 'osimar', 1808, 'd4,e6,c3,Nf6,e3,d5,f4,Ne4,Nf3,c5,Bd3,f5,O-O,Nc6,Nbd2,Bd6,Qe2,cxd4,cxd4,Bd7,Bxe4,dxe4,Ne5,Nb4,Qh5+,g6,Nxg6,hxg6,Qxh8+,Bf8,Qh7,Qf6,Nc4,O-O-O,Ne5,Bd6,Qxg6', 'Bxe5,Qxf6,Bxf6', 'https://lichess.org/training/y5NYk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y5OBB', 'Rapid', 'SleazyDZ', 1714, 'OMCOEP', 1802, 'd4,d5,e3,Bf5,a3,Nd7,Nf3,c5,c4,cxd4,cxd5,Qa5+,Bd2,Qxd5,Nxd4,Bxb1,Qxb1,O-O-O,Qc2+,Kb8,Rc1,Nb6,Qc7+,Ka8,Ba5,Qxa5+,b4,Qd5,Bc4,Nxc4,Rxc4,Rb8,O-O,e5,Nb5,Qxb5,Rfc1,Nf6', 'Qxb8+,Kxb8,Rc8#', 'https://lichess.org/training/Y5OBB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y5t3R', 'Rapid', 'farzadkhafan', 1680, 'arvin123', 1676, 'd4,d5,c4,dxc4,Nc3,c6,Bf4,b5,e3,Bb7,Nf3,a6,Be2,e6,O-O,h6,Ne5,Nf6,Bg3,Be7,b3,cxb3,Qxb3,Nd5,Ne4,O-O,Nc3,Nxc3,Qxc3,Bf6,Qd3,Nd7,Bd1,Be7,Bc2,Nf6,Bh4,g5,Bg3,c5,Ng4,Be4', 'Nxf6+,Bxf6,Qxe4', 'https://lichess.org/training/y5t3R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y5u7C', 'Rapid', 'akbars555', 1803, 'Frev', 1686, 'b3,c6,Bb2,d5,e3,Bf5,Be2,e6,d3,Nf6,Nd2,Qa5,a3,Qc7,Ra2,Nbd7,g4,Bg6,g5,Ng8,Qa1,f6,Bg4,Bf5,Bxf5,exf5,h4,Bd6,Ngf3,O-O-O,a4,Re8,Nd4,f4,Rh3,fxe3,fxe3,Bf4,Kd1,Rxe3,Rxe3,Bxe3,N4f3,Ne7,gxf6,gxf6,Bxf6,Nxf6', 'Qxf6,Rd8,Qe6+,Kb8,Qxe3', 'https://lichess.org/training/y5u7C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y5vaF', 'Rapid', 'umeshnayak', 1690, 'tereschenkov', 2001, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Nf3,Bb4,Bd2,O-O,a3,Ba5,b4,Bb6,e3,Bg4,Be2,Nbd7,O-O,c6,h3,Bh5,Ne5,Bxe2,Qxe2,Bc7,Nf3,h6,e4,dxe4,Nxe4,Re8,Rfe1,Nxe4,Qd3,Nxd2,Qxd2,Nf6,Rad1,Nd5,Ne5,Qf6,Nd7,Qd6,Ne5,f6,Nf3,Kf7,g3,Rad8,Nh4,Ne7,Qa2+,Qd5,Qc2,Bb6,Rxe7+,Rxe7,Qg6+,Kg8,Nf5,Red7,Re1,Qf7', 'Nxh6+,Kf8,Nxf7', 'https://lichess.org/training/y5vaF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y5x1n', 'Rapid', 'Francisco_0', 1904, 'isnaldt', 1759, 'c4,e5,g3,Nf6,Bg2,d5,cxd5,Nxd5,Nc3,Nxc3,bxc3,Bc5,Qa4+,Qd7,Qxd7+,Nxd7,Nf3,O-O,O-O,f5,d4,Bd6,dxe5,Nxe5,Nxe5,Bxe5,Bb2,Be6,Bxb7', 'Rab8,Ba3,Rxb7,Bxf8,Kxf8', 'https://lichess.org/training/Y5x1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y62Ui', 'Rapid', 'Sozimajor', 1868, 'alaa_tago', 1898, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,d5,Ne5,Nc3,Bd7,f4,Ng6,h4,e6,h5,N6e7,dxe6,Bxe6,Nf3,Bg4,Bb5+,Nc6,O-O,Bxh5,Qd5,Bxf3', 'Bxc6+,bxc6,Qxc6+,Qd7,Qxa8+', 'https://lichess.org/training/Y62Ui');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y68dO', 'Blitz', 'WFM Schachbrettchen', 2167, 'FM Vilma1963', 2255, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,a3,b5,Ba2,Be7,O-O,O-O,Nde2,Bb7,Ng3,Nbd7,f4,Nc5,f5,e5,Qe2,Rc8,Bg5,Ncd7,Rad1,Rxc3,bxc3,Qc7,Nh5,Qxc3,Bxf6,Nxf6,Nxf6+,Bxf6,Rxd6', 'Qc5+,Kh1,Qxd6', 'https://lichess.org/training/Y68dO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6aHo', 'Blitz', 'Salehbo', 1756, 'emma-magic', 1762, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bf4,Bg4,Bb5,e6,c3,Bd6,Bxd6,Qxd6,Qa4,Bxf3,gxf3,Ne7,Nd2,O-O,O-O-O,a6,Bxc6,Nxc6,Qc2,b5,Rhg1,Rfc8,Nb3,b4,Nc5,bxc3,Qxc3,Nxd4,Qxd4,Qxc5+,Kb1,Qxd4,Rxd4,Rab8,Ra4,Rc6,Rc1,Rcb6,b3,g6,Rc7,Kg7,Kc2,Kf6,Kd3,h5,Rf4+,Ke5,Rfxf7,Rg8', 'f4+,Kd6,Rfd7#', 'https://lichess.org/training/y6aHo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y6aYe', 'Classical', 'DetriMental', 1815, 'Spaceball', 1836, 'd4,d5,Nc3,c6,e3,Bf5,Bd3,Bxd3,Qxd3,Nf6,Nf3,e6,O-O,Bd6,Ne5,O-O,f4,Nbd7,Bd2,Rc8,a4,c5,Nb5,Bb8,b3,Ne4,Nxd7,Qxd7,dxc5,Nxc5,Qd4,Ne4,Rac1,Qc6,Nxa7', 'Bxa7,Qxa7,Nxd2', 'https://lichess.org/training/Y6aYe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6BRz', 'Blitz', 'juerk1', 2080, 'Coro-rona', 2044, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,Ndb5,Qb8,g3,a6,Nd4,Nf6,Bg2,Be7,O-O,O-O,Bg5,b5,Nxc6,dxc6,Re1,Rd8,e5,Rxd1,Raxd1,Nd5,Bxe7,Qc7,Bd6,Qd7,Ne4,Bb7,Nc5,Qc8,b3,f6,f4,a5,Bh3,f5,Bg2,Ba6,g4,fxg4,f5,Nf4,Be4,exf5,Bh1,Ne6', 'Nxe6,Qxe6,Bxc6,Qc8,Bd5+', 'https://lichess.org/training/y6BRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6C5S', 'Rapid', 'greenfarm', 1643, 'Rxfxzl', 1643, 'd4,d5,Nf3,Nf6,e3,Bg4,Be2,e6,Ne5,Bxe2,Qxe2,c5,Qb5+,Nbd7,f4,Qc7,Nxd7,Nxd7,c3,c4,b4,Be7,Qa4,O-O,O-O,Nf6,Nd2,a5,b5,h5,h3,Rfe8,Ba3,Bxa3,Qxa3,Qd7,Rab1,Rec8,Qc1,Ne8,a4,f6,e4,e5,f5,dxe4,Nxe4,exd4,Kh1,d3,Nd2,Nd6,Qd1,Nxf5,Qf3,g6,g4,hxg4,hxg4,Qh7+,Kg1,Nh6,Qxf6,Nxg4', 'Qe6+,Kh8,Qxg4', 'https://lichess.org/training/y6C5S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6cZ2', 'Rapid', 'darkadeus', 1711, 'Brunomig', 1652, 'e4,e5,Nf3,Nc6,Bb5,Qf6,d3,Nd4,Bg5,Qg6,Nxd4,Qxg5,Nf3,Qxg2,Rg1,Qh3,Bc4,d6,Bxf7+,Ke7,Nc3,Bg4,Rxg4,Qxg4,Nd5+,Kxf7', 'Nxe5+,dxe5,Qxg4', 'https://lichess.org/training/y6cZ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y6dIH', 'Rapid', 'Tteren--Jr', 1897, 'sugi_ajje', 1612, 'd4,d5,Nf3,Nc6,g3,Bf5,Bg2,e6,b3,Nf6,Bb2,Bd6,Ne5,O-O,O-O,Ne4,Nd2,Bxe5,dxe5,Nxd2,Qxd2,Re8,Rfe1,Re7,e4,dxe4,Qxd8+,Rxd8,Bxe4,Bxe4,Rxe4,Red7,c4,Rd1+,Re1,Rxa1,Rxa1,Rd2,Rb1,g6,a3,Na5', 'Bc3,Rc2,Bxa5', 'https://lichess.org/training/Y6dIH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6Dol', 'Blitz', 'fenoaltil', 1890, 'IM Nozdrachev_Leonid', 2428, 'd4,d6,Nf3,Nf6,c3,g6,g3,Bg7,Bg2,O-O,O-O,c6,Nbd2,a6,Re1,Nbd7,e4,Qc7,e5,dxe5,Nxe5,Nxe5,dxe5,Ng4,e6,Bxe6,Rxe6,Nxf2,Rxe7,Qb6,Qe2', 'Nh3+,Kf1,Qg1#', 'https://lichess.org/training/y6Dol');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y6dTQ', 'Rapid', 'Sunyl0', 1824, 'chesseymen', 1881, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Bc5,a3,Ng4,Ne4,Bxf2+,Nxf2,Nxf2,Kxf2,Qd4+,Ke1', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/Y6dTQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6Dtu', 'Blitz', 'omid1972', 1828, 'FineBabe', 1788, 'e4,d6,d4,Nf6,Bd3,e5,Nf3,exd4,Nxd4,g6,O-O,Bg7,Be3,O-O,c3,Re8,f3,Nbd7,Qd2,Nc5,Bc2,d5,exd5,Nxd5,Bh6,Qe7,Bxg7,Kxg7,Na3,Ne3,Rfe1,Qg5,Nc4,Bh3,g3,Nxc2,Qxg5,Nxe1,Rxe1', 'Rxe1+,Kf2,Nd3#', 'https://lichess.org/training/y6Dtu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y6EAx', 'Rapid', 'seba1234', 1732, 'nose78', 1794, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Nc3,Nf6,O-O,O-O,e5,dxe5,dxe5,Ng4,Qxd8,Rxd8,Nd5,Be6,Nxb4,Nxb4,Bxe6,fxe6,h3,Nh6,Bxh6,gxh6,a3,Nd3,b4,Rd5,Ra2,Nxe5,Nxe5,Rxe5,Rc2,c6,f4,Rd5,Re1,Kf7,Rce2,Rd6,Re5,Rad8,R1e3,Rd3,Kf2,Rxe3,Kxe3,Rg8,g4,h5,g5,h6,h4,hxg5,fxg5,Rd8,a4,Rd5,Ke4,Rxe5+,Kxe5,b6', 'Kd6,c5,bxc5,bxc5,Kxc5', 'https://lichess.org/training/Y6EAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6g1Z', 'Classical', 'SharkMoves', 1998, 'Hierophantc4', 1993, 'd4,f5,Bg5,g6,e3,Bg7,Nf3,b6,Bd3,Bb7,Nbd2,Nf6,c3,O-O,O-O,d6,Bxf6,Bxf6,e4,f4,Bc4+,d5,exd5,Bxd5,Bxd5+,Qxd5,Qb3,Qxb3,axb3,Nd7,Nc4,Rfe8,Rfe1,c5,dxc5,Nxc5,b4,Nd7,Rad1,Rad8,g3,fxg3,hxg3,Kf7,Nd4,Nb8,Nb5,Nc6,Ne3,a6,Nc7,Ne5,Kg2,Nd3,Rxd3,Rxd3,Nxe8,Kxe8,Ng4,Kf7,Nxf6,exf6,Re2,b5,Kf1,Rd1+,Kg2,g5,Kf3,h5,Ke3,h4,gxh4,gxh4,Kf3,Rg1,Re4,h3,Rh4,Rb1,Rxh3,Kg6,Ke4,Rxb2,Rg3+,Kf7,Rf3,Ke6,Kd4,Ra2,Kc5,Ra3,Kb6,f5,Re3+,Kd5', 'c4+,Kxc4,Rxa3', 'https://lichess.org/training/y6g1Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6IYL', 'Rapid', 'noorddeen', 1757, 'maradona007', 1773, 'e4,e5,Bc4,Nf6,d3,Bc5,Be3,Bxe3,fxe3,d5,exd5,Nxd5,Qf3,Be6,e4,Nf6,Bxe6,fxe6,Nh3,Qd4,Nc3,O-O,Ng5,Nd5,Qh3', 'Qf2+,Kd1,Ne3+,Qxe3,Qxe3', 'https://lichess.org/training/y6IYL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6Kc8', 'Rapid', 'WealthyChicken', 1620, 'laugan', 1644, 'e4,g6,Nf3,d6,Bc4,Bg7,d4,Nf6,e5,dxe5,Nxe5,O-O,Be3,Ne4,Nf3,Bg4,Nbd2,Bxf3,Qxf3,Nxd2,Bxd2,Qxd4,Bd5,Qxb2,O-O,c6,Bb3,Qd4,Rad1,Qf6,Qg3,Na6,Be3,Nb4,Bd4,Qf5', 'Bxg7,Kxg7,Qc3+,Qf6,Qxb4', 'https://lichess.org/training/y6Kc8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y6LV0', 'Blitz', 'IM swimmerchess', 2777, 'Kiev_M', 2553, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Nf6,Qe2,Nxe4,Qxe4,Nd7,Bc4,Nf6,Ne5,e6,Qe2,Be7,O-O,O-O,c3,b5,Bb3,Qc7,d4,Bb7,Bf4,Qb6,Rad1,Rfd8,Bc2,Rac8,Rfe1,g6,Be3,c5,dxc5,Bxc5,Bxc5,Rxc5,Rxd8+,Qxd8,Nxf7,Qd5,f3,Kxf7,Bb3,Qd6,Bxe6+,Kg7,Qe3,Bd5,Bh3,Bf7,a3,Nd5,Qd4+,Kg8,Re5,Qf8,Bd7,Rc4,Qxa7,Rc7,Qa6,Rxd7,Qxb5,Rd6,a4,Qd8,a5,Nf4,h3,Rd2,Rg5,Rxg2+,Rxg2,Nxg2,Kxg2,Qd2+,Kg3,Qe1+,Kg2,Qd2+,Kg3,Be6', 'Qe8+,Kg7,Qxe6', 'https://lichess.org/training/Y6LV0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y6NBV', 'Rapid', 'binay10051971', 1833, 'fastsmurf', 1748, 'e4,c6,d4,d5,exd5,cxd5,Bb5+,Nc6,Nc3,Nf6,Bf4,Bf5,Nf3,Ne4,Nxe4,dxe4,Nd2,e6,Bxc6+,bxc6,Be3,Bd6,O-O,O-O,f3,Qh4,h3,Qg3,Nxe4,Qh2+,Kf2,Bxh3,Nxd6,Qxg2+,Ke1,Qxf1+,Kd2,Qg2+,Qe2,Qg3,Ne4,Qc7,Rh1,Bf5,Kc1,Qa5,Kb1,Rab8,Bd2,Qc7,Bc3,Rb5,d5,cxd5,Nf6+,gxf6,Qg2+,Bg6,Bxf6,Qf4,Bg5,Bxc2+,Ka1,Qf5,Rh6,Rxb2', 'Bf6+,Qg6,Rxg6+', 'https://lichess.org/training/Y6NBV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y6NZQ', 'Rapid', 'lohanni1', 1888, 'ciobotaruvasile', 1992, 'd4,e6,c4,c5,Bf4,cxd4,Qxd4,Nc6,Qd1,Bb4+,Nc3,Nf6,a3,Be7,e3,O-O,Nf3,d6,Nb5,e5,Bg5,Bg4,Be2,a6,Nc3,e4,Nd2,Bxe2,Qxe2,d5,cxd5,Nxd5,Bxe7,Ndxe7,Ndxe4,Qb6,O-O,Rad8,Rfd1,Ne5,Ng3,h6,h3,Rc8,Rd4,Qg6,Rc1,b5,Qc2,Qxc2,Rxc2,Nc4,Nge4,Nc6,Rd5,N6e5,f4', 'Nxe3,Rxe5,Nxc2', 'https://lichess.org/training/Y6NZQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6O9T', 'Blitz', 'Storchsgasse', 1668, 'paulmax', 1665, 'd4,f5,e3,e6,Nc3,Nf6,b3,Be7,Bb2,O-O,Qd2,a6,O-O-O,b5,Bd3,b4,Nce2,c5,dxc5,Bxc5,Bc4,Kh8,Nf3,Ne4,Qe1,a5,Nd2,Nf6,h4,a4,h5,h6,f3,axb3,Bxb3,Nc6,e4,fxe4,Nxe4,Be7,Rg1,Na5,g4,Nxb3+,axb3,Nxe4,fxe4,Bg5+,Kb1,Qa5,Nc1,Bb7,c3,bxc3,Qxc3,Bxc1', 'Qxg7#', 'https://lichess.org/training/y6O9T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y6oJO', 'Classical', 'AdzleeZaki', 1753, 'girayhann', 1671, 'd4,d5,c4,dxc4,Qa4+,c6,Qxc4,Nf6,Nf3,Be6,Qc2,g6,e4,Bg4,Nbd2,Bh6,Qd3,Bxd2+,Nxd2,O-O,b3,Na6,Ba3,Re8,Qe3,Kg7,Bxa6,bxa6,O-O,Rc8,Bc5,Qc7,Nc4,Be6,Ne5,a5,f4,Ng4,Nxg4,Bxg4,f5,e5,f6+,Kh8,Be7,exd4,Qxd4,c5,Qc4,Be6,Qc1,c4,Qh6,Rg8,bxc4,Bxc4,Rf3,Qb6+,Kh1,Qd4', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/Y6oJO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6qQ0', 'Blitz', 'MarceloVazneto', 1798, 'mo456', 1782, 'd4,e5,dxe5,f6,exf6,Nxf6,Bg5,Bc5,Nf3,Bxf2+,Kxf2,Ne4+,Ke1,Nxg5,Nxg5,Qxg5,Nc3,O-O,e4,c6,Bc4+,Kh8,Rf1,Rxf1+,Kxf1,b5,Bb3,Ba6,Kg1,b4,Ne2,Bxe2,Qxe2,d6,Rf1,Nd7,Qc4,c5,Qf7,Nf6,Bd5,Rd8,Qe7,Re8', 'Qxe8+,Nxe8,Rf8#', 'https://lichess.org/training/y6qQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y6Rqo', 'Rapid', 'I_love_Sugar', 1633, 'KingBr63', 1677, 'Nf3,d5,d4,Bg4,Nbd2,e6,e4,Bxf3,Qxf3,dxe4,Nxe4,Qxd4,Bb5+,c6,c3,Qd8,Be2,h6,O-O,Be7,Be3,Nf6,Rad1,Nbd7,Nxf6+,Bxf6,Bd4,O-O', 'Bxf6,Qxf6,Rxd7', 'https://lichess.org/training/Y6Rqo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y6t7Z', 'Rapid', 'adwait_garg', 1847, 'Udgin', 1838, 'e4,e5,Qh5,Nf6,Qxe5+,Be7,Qg3,O-O,Nc3,Bd6,e5,Qe7,d4,Bb4,Bd2,Bxc3,Bxc3,Ne4,Qe3,Nxc3,Qxc3,Nc6,Bb5,Qb4,Qxb4,Nxb4,Bc4,Nxc2+,Kd2,Nxa1,Nf3,a6,Rxa1,b5,Bd5,c6,Be4,Re8,Ng5,g6,h4,d5,Bd3,h6,Nf3,Bg4,Nh2,h5,f3,Be6,g4,Kg7,gxh5,gxh5,Rg1+,Kh6,f4,Rg8,Rxg8,Rxg8,Nf3,Rg2+,Kc3,Bg4,Ng5,b4+,Kxb4,Rxb2+,Kc5,Rxa2,Kxc6,Rd2,Bxa6,Rxd4,Nxf7+,Kg7,Ng5,Rxf4,e6,Kf6,Kxd5,Rf5+,Kd6,Ra5,Bc8,Ra7,Ne4+,Kf5', 'e7+,Kxe4,e8=Q+', 'https://lichess.org/training/Y6t7Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6TQw', 'Rapid', 'FrankHansen', 1801, 'canadiancenter', 1796, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Bd7,Bc4,e6,O-O,a6,f4,Qc7,f5,d5,exd5', 'Bc5,Be3,Bxd4', 'https://lichess.org/training/y6TQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6VF1', 'Rapid', 'Kapilyadav', 1767, 'MAR-ONE', 1763, 'e4,c5,Nf3,Nc6,d3,g6,d4,Nxd4,Nxd4,cxd4,Qxd4,f6,Bc4,Bg7,Nc3,e6,Qd6,Ne7,e5,O-O,O-O,Nf5,Qc5,b6,Qb4,fxe5,Ne4,Re8,Bg5,Qc7,Nf6+,Bxf6,Bxf6,Kf7,Bg5,a5,Qc3,d5,Bb5,Qxc3,bxc3,Rf8,Rfe1,e4,Rad1,Kg7,f3,h6,fxe4,hxg5,exf5,gxf5,c4,dxc4,Bxc4,Re8,Rd6,Kf6,Rxb6,Bd7,Rd1,Ba4,Bb3,Bxb3,cxb3,Rab8,Ra6,Rb5,Rd3,f4,g3,Kf5,gxf4,gxf4,Kf2,e5,Rdd6,Rf8,Rh6,e4', 'Rh5+,Kg4,Rxb5', 'https://lichess.org/training/y6VF1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y6zsS', 'Rapid', 'MuratPolatozkan1', 1613, 'rezoons', 1637, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,c3,Bd7,d4,Qb6,dxc5,Bxc5,b4,Nxb4,cxb4,Bxb4+,Bd2,Qe3+,Be2,Bxd2+,Qxd2,Qb6,Nc3,Rc8,Rb1,Qc5,Rc1,Ne7,Nd4,Nf5,Nxf5,exf5,Qxd5', 'Qxd5,Nxd5,Rxc1+', 'https://lichess.org/training/y6zsS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y79Hv', 'Rapid', 'Baran-06', 1826, 'fabiuscunctator', 1810, 'e4,e6,d4,d5,exd5,Qxd5,Nc3,Bb4,Be3,Nf6,a3,Bxc3+,bxc3,O-O,c4,Qc6,Nf3,b6,Ne5,Qd6,g3,Bb7,f3,Nbd7,Nxd7,Qxd7,Bg2,Ng4,Qe2,Nxe3,Qxe3,Rad8,Rd1,Qa4,Qb3,Qc6,O-O,Qd6,c3,c5,f4,Bxg2,Kxg2,Qc6+,d5,exd5,cxd5,Qb7,c4,Rd6,Rfe1,Rfd8,a4,h6,a5,b5,Qxb5,Qxb5,cxb5,Rxd5,Re8+,Rxe8,Rxd5,Rc8,b6,axb6,axb6,c4,Kf3,c3,Ke2', 'c2,b7,c1=Q,bxc8=R+,Qxc8', 'https://lichess.org/training/y79Hv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y7aWl', 'Blitz', 'petrbutok', 2141, 'tava2', 2045, 'e4,g6,d4,Bg7,c3,e6,Bd3,Ne7,Bg5,f6,Bh4,b6,h3,Bb7,Ne2,O-O,Nd2,c5,O-O,d5,f3,f5,e5,cxd4,cxd4,f4,Nb3,Ba6,Rc1,Bxd3,Qxd3,Qe8,Bxe7,Qxe7,Rc2,a5,Rfc1,Na6,a3,Rf5,Rc6,Qh4,Rc8+,Rxc8,Rxc8+,Bf8,Qxa6,Qe1+,Kh2,Rg5,Rc1,Qf2,Rg1,Rh5,Nxf4,Rh4,Nxe6,Be7,Qf1', 'Rxh3+,Kxh3,Qh4#', 'https://lichess.org/training/y7aWl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y7blM', 'Rapid', 'elinsamir', 1898, 'Ataginec01', 1949, 'e4,e5,Nf3,d6,d4,exd4,Bc4,Be7,O-O,Nf6,Qxd4,O-O,Nc3,Nc6,Qe3,Ng4,Qe2,Nge5,Nxe5,Nxe5,Nd5,Be6,Nxe7+,Qxe7,Bxe6,fxe6,f4,Ng6,c3,Rf7,b4,Raf8,g3,a6,h4,Qd7,h5,Ne7,Qd3,h6,e5,Nc6,Be3,dxe5,Rad1,exf4', 'Qxd7,Rxd7,Rxd7', 'https://lichess.org/training/Y7blM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y7bu8', 'Rapid', 'totore75', 1857, 'Vishnu011', 1845, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,Be7,Bxf6,Bxf6,cxd5,cxd5,e3,O-O,Be2,Nc6,O-O,Bd7,a3,a6,Rc1,Rc8,b4,b5,Qb3,Qb6,Nd1', 'Nxd4,exd4,Rxc1', 'https://lichess.org/training/y7bu8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y7dIy', 'Rapid', 'MorasUwU', 1807, 'Jeferson_Pereda', 1823, 'e4,e6,e5,d5,f4,Nc6,Nf3,h6,d4,f6,Bd3,Nge7,exf6,gxf6,O-O,b6,Nh4,Bb7,Bg6+,Kd7,f5,e5,dxe5,Nxe5,Nf3,N7xg6,Nxe5+,Nxe5,Nc3,Bc5+,Kh1,c6,Bf4,Bd6,Re1,Qe7,Bg3,Kc7,a4,a6,a5,b5,Qd4,c5,Qd1,d4,Ne4,Bxe4,Rxe4,Rag8,Qf3,Qd7,Bxe5,Bxe5,Rd1,Rg5,c3,Rxf5,Qe2,Qc6,cxd4,Bxd4,Re7+,Kc8,Qg4,Qd5,Qg7,Rg8,Rc7+,Kd8', 'Qe7#', 'https://lichess.org/training/y7dIy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y7EeH', 'Rapid', 'Boberchik', 1763, 'tayraf', 1787, 'e4,g6,d4,Bg7,Nf3,d5,exd5,Qxd5,Nc3,Qa5,Bd2,Bg4,Nb5,Qb6,Bf4,Na6,c3,c6,Na3,Bxf3,gxf3,Rd8', 'Nc4,Qb5,Nd6+,exd6,Bxb5', 'https://lichess.org/training/Y7EeH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y7g9o', 'Rapid', 'gorsh78', 1740, 'fhkato', 1663, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Qe2,d5,Nxe5,Qe7,Bxd5,Qxe5,Qb5+,Bd7', 'Bxf7+,Kxf7,Qxe5', 'https://lichess.org/training/Y7g9o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y7IuY', 'Rapid', 'ramzi005', 1925, 'felipetoledo', 1778, 'e4,c6,f4,d5,e5,Nh6,d4,Bf5,Nf3,e6,Bd3,Qb6,c3,Nd7,b4,a5,Bxf5,Nxf5,g4,Ne7,Ba3,Ng6,f5,exf5,gxf5,Nf4,O-O,axb4,Bxb4,Bxb4,cxb4,Qxb4,e6,fxe6,fxe6,Nf6,Nbd2,Qd6,Rb1,Nxe6,Rxb7,O-O,Ne5,Nxd4,Ndf3,Nxf3+,Nxf3,Rxa2,Qb1,Qc5+,Kh1,Qc4,Rb8,Nd7,Rxf8+,Nxf8,Ng5,Qc2,Rxf8+,Kxf8,Qb8+,Ke7,Qe5+,Kd7,Qxg7+,Kd6,Qf8+,Ke5,Nf3+,Ke4,Ng5+,Kd4,Qf4+,Kc5,Ne6+,Kb5', 'Nd4+,Kc5,Nxc2', 'https://lichess.org/training/y7IuY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y7JSU', 'Blitz', 'NM robertoyepez', 2335, 'Cr7wechess', 2228, 'd4,d5,Nc3,Nf6,Bf4,Bf5,e3,c6,Bd3,Ne4,Nf3,Bg6,O-O,Nd7,Ne5,Nxe5,dxe5,e6,Ne2,Qb6,Rb1,Be7,h3,O-O,c3,Rfd8,Bc2,c5,Ng3,Nxg3,Bxg3,d4,Bxg6,hxg6,cxd4,cxd4,exd4,Rxd4,Qf3,Rad8,Rfd1,Rxd1+,Rxd1,Rxd1+,Qxd1,Qxb2,Qd7,Bf8,Bh4,Qa1+,Kh2,Qxe5+,Bg3,Qb2,Qd8,Qb6,Qc8,f6,a4,a5,f3,e5,Qe8,Qc6,Qxg6,Qxa4,Bf2,Qc6,h4,b5,h5,a4,h6,a3,h7+,Kh8,Qf7,Kxh7,Qxf8,a2,Qa3,Qc2,Be1,Qb1,Bc3', 'b4,Qa4,bxc3,Qh4+,Kg8', 'https://lichess.org/training/y7JSU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y7kej', 'Classical', 'uniquetv', 1614, 'cristian444', 1709, 'e4,c6,c3,d5,exd5,Qxd5,Nf3,Bf5,d4,Nf6,h3,h6,Be2,e6,Ne5,Qxg2', 'Bf3,Qxh1+,Bxh1', 'https://lichess.org/training/y7kej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y7L8L', 'Rapid', 'natos', 1730, 'mahedela', 1757, 'd4,d5,Bf4,e6,Nf3,c5,e3,Qb6,b3,Nf6,Nbd2,c4,bxc4,Bb4,cxd5,exd5,Bd3,O-O,O-O,Bg4,Bxh7+,Nxh7,h3,Bh5,g4,Bg6,Ne5,Nc6,Nxg6,fxg6,Nf3,Nf6,Ne5,Nxe5,Bxe5,Ne4,Qd3,Nd2,Rfd1,Nf3+,Kg2,Nxe5,dxe5,Rad8,Rab1,a5,a3,Qc7,axb4,Qf7,f4,a4,Ra1,Rc8,Rxa4,Qd7,Ra2,d4,exd4', 'Qd5+,Kg3,Qxa2,Qb3+,Qxb3+', 'https://lichess.org/training/Y7L8L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y7lau', 'Rapid', 'Fasaderi', 1816, 'nikh1', 1842, 'e4,e5,Bb5,Nf6,d3,Bc5,h3,O-O,c3,a6,Ba4,Nc6,a3,h6,Nf3,Nh7,O-O,f5,d4,fxe4,Nxe5,Nxe5,dxe5,Qh4', 'Qd5+,Kh8,Qxc5', 'https://lichess.org/training/Y7lau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y7lRW', 'Blitz', 'chessdrunkard', 1706, 'WILFREDO_E_M_GALINDO', 1704, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,e6,O-O,Be7,d4,cxd4,Nxd4,Bd7,f5,e5,Bxf7+,Kxf7', 'Qh5+,Kf8,Ne6+,Bxe6,fxe6+,Bf6,Qf7#', 'https://lichess.org/training/y7lRW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y7m5C', 'Rapid', 'frankmoses', 1768, 'tgmlobnya', 1676, 'e4,e5,f4,d5,fxe5,dxe4,Qh5,g6,Qe2,Qh4+,g3,Qe7,Qxe4,Nc6,Bg2,Bf5,Qe3,Bd7,Nc3,O-O-O,d4,Bh6,Nd5,Bxe3,Nxe7+,Ncxe7,Bxe3,Nf5,Bf2,Bc6,Bxc6,bxc6,O-O-O,Nge7,Nf3,h6,g4,Ng7,d5,Nxd5,Bxa7,Kb7,Bd4,Nf4,Rhf1,Nge6,Be3,Nd5,Bf2,g5,h4,Ndf4,hxg5,Rxd1+,Rxd1,hxg5,Rd7,Rh1+,Kd2,Rf1,Ke3,Nd5+,Ke2,Rc1,Rxf7,Rxc2+,Kf1,Ndf4,Nd4', 'Rc1+,Be1,Nxd4', 'https://lichess.org/training/Y7m5C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y7NgO', 'Blitz', 'Francisbukid', 1786, 'Mas-GaLL', 1766, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,Nf6,f3,O-O,Nc3,d6,Be2,a6,O-O,Nxd4,Bxd4,e5,Be3,Bd7,Nd5,Nxd5,cxd5,f5,Qd2,fxe4,fxe4,Rxf1+,Rxf1,Qc7,Rc1,Qd8,Qb4,Be8,Bb6,Qg5,Rc7,Bb5,Bxb5,axb5,a3,Rf8,Qxd6,Qf4,Qe6+,Kh8,Kh1,Qxe4,Qe7', 'Rf1+,Bg1,Rxg1+,Kxg1,Qe1#', 'https://lichess.org/training/Y7NgO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y7U0J', 'Classical', 'Greca', 1685, 'muhya62', 1688, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,h6,O-O,d6,Ne2,Nf6,d3,Be6,Ng3,Qd7,Bb5,a6,Ba4,b5,Bb3,Nd4,Be3,Nxf3+,Qxf3', 'Bg4,Qxf6,gxf6', 'https://lichess.org/training/y7U0J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y7Uo2', 'Rapid', 'NaSratTriKrat', 1980, 'Rober99', 1908, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,c5,dxc5,Bxc5,c3,Nc6,Bd3,a6,h3,Qe7,O-O,e5,Nxe5,Nxe5,Bxe5,Qxe5,Re1,O-O,Qf3,Ne4,Bxe4,dxe4,Qe2,Be6,Nd2,b5,Rad1,Rad8,f3,exf3,Nxf3,Rxd1,Nxe5,Rxe1+,Qxe1,Re8,b3,Bf5,Nf3', 'Rxe3,Qf2,Rxc3', 'https://lichess.org/training/y7Uo2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y7WBW', 'Rapid', 'at22', 1709, 'Max757_7', 1895, 'c4,e5,g3,Nf6,Bg2,c6,Nc3,d5,cxd5,cxd5,e3,e4,Nge2,Bd6,O-O,O-O,d4,Bg4,h3,Bd7,Qb3,Qc8,Nxd5,Bxh3,Nxf6+,gxf6,Bxh3,Qxh3,Qxb7,Nd7,Qxe4,f5,Qg2,Qg4,Nc3,Rab8,b4,Bxb4,Nd5,Ba5,Ne7+,Kh8,Nc6,Rb6,Nxa5,Rh6,Bb2,f6,Nc4,Rg8,Nd6,Rg7,Rac1,Re7,Rc8+,Kg7,Re8,Rxe8,Nxe8+,Kg6,Rc1,Nf8,Rc7', 'Qd1+,Qf1,Rh1+,Kxh1,Qxf1+', 'https://lichess.org/training/y7WBW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y83Wn', 'Blitz', 'FourKnightsMate', 2159, 'BSambuev', 2392, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,Bd2,Ne7,Nb5,Bxd2+,Qxd2,O-O,dxc5,Nbc6,Qc3,Ng6,Nf3,f6,exf6,Rxf6,Bd3,Nf4,O-O,Bd7,Nbd4,Qf8,b4,e5,Nxc6,Bxc6,Nxe5,d4,Bc4+,Kh8,Qg3,Bxg2,Rfe1,Bh3,Re4,Re8,Rxf4,Rxf4', 'Ng6+,hxg6,Qxh3+,Rh4,Qxh4#', 'https://lichess.org/training/y83Wn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y87uc', 'Rapid', 'dafunkson', 2021, 'jsnl2', 1751, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,g6,Nf3,Bg7,Nd5,e6,Ne3,Ne7,Bc4,b6,e5,Bb7,Ng4,h5,Nf6+,Bxf6,exf6,Nf5,Bd2,Qxf6', 'Bc3,Qe7,Bxh8', 'https://lichess.org/training/Y87uc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y883U', 'Classical', 'kamDeep', 1783, 'Rushikeshkabnurkar', 1855, 'e4,c5,Bc4,d6,d3,e5,Qf3,Nf6,Bg5,Be7,h3,Be6,Bxf6,Bxf6,Bxe6,fxe6,Qh5+,g6,Qh6,Qe7,Qd2,Nc6,Nf3,O-O-O,a4,Nd4,Nxd4,exd4,Qa5,a6,Na3,Bg5,Nc4,Rhf8,Nb6+,Kb8,O-O,Bh4,Qd2,Qc7,a5,Rde8,Rae1,Re7', 'Qh6,Bxf2+,Rxf2,Rxf2,Kxf2', 'https://lichess.org/training/y883U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y8Azi', 'Rapid', 'mukhtarow', 1865, 'somali-Devloper', 1635, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,a6,Bd3,d6,O-O,Ng4,h3,h5,Bg5,f6,Bd2,Be6,hxg4,hxg4,Nh2,f5,exf5', 'Qh4,Bf4,exf4', 'https://lichess.org/training/Y8Azi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y8fcK', 'Rapid', 'heaven245', 2097, 'BLITZ16', 1915, 'g4,d5,Bg2,e5,c4,c6,cxd5,cxd5,Qb3,e4,d3,f5,gxf5,Nf6,dxe4,dxe4,Nc3,Qe7,Nxe4,Nxe4,Qa4+,Nc6,Bxe4,Bd7,Bd3,Nb4,Qd1,Bc6,f3,O-O-O,Kf1,Nxd3,exd3,Bb5,Kf2,Qh4+,Kg2,Bc5,Qc2,Qd4,b4,Qxb4,Rb1,Qd4,Rxb5,b6,Bb2,Qd7,Rxc5+,bxc5,Qxc5+,Kb7,f6,gxf6,Ne2,Rhg8+,Kf2,Qxd3,Bd4,Rg2+,Kxg2,Qxe2+,Bf2', 'Rg8+,Kh3,Qxf3+', 'https://lichess.org/training/Y8fcK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y8iNf', 'Rapid', 'ZaLjubavMobilan', 2008, 'PriSud', 1945, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,d4,exd4,cxd4,Nf6,Nc3,Be7,O-O,a6,Bd3,O-O,h3,Re8,a3,h6,Be3,Bc8,Bc2,d5,e5,Nh7,Qd3,g6,Bxh6,Bf5,Qd2,Bxc2,Qxc2,Bg5,Nxg5,Nxg5,Bxg5,Qxg5,Nxd5,Nxd4,Qe4,Rxe5,Qxd4,Rxd5,Qe4,Rad8,Rac1,c6,Rc3,Rd2,Qb4,R8d7,Re3,Qf6,Re8+,Kg7,Qf8+,Kh7,Qg8+,Kh6,g4,R2d3,Kh2,Qf4+,Kg2,Qf3+,Kg1,Qf6,f4,Qd4+,Rf2,Rg3+,Kf1,Qd3+,Ree2,Qb1+,Re1,Rg1+,Kxg1,Qxe1+,Kg2,Qe4+,Kh2,Qd4', 'g5+,Kh5,Qh7#', 'https://lichess.org/training/y8iNf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y8kmS', 'Rapid', 'JurjevicPetar', 2007, 'florstoe', 2100, 'e4,g6,Nc3,c6,d4,d5,Nf3,Bg7,Bd3,dxe4,Bxe4,Nf6,Be3,Nxe4,Nxe4,Nd7,Qd2,h6,O-O,Nb6,b3,Nd5,Rad1,Nxe3,fxe3,O-O,c4,b6,a4,a5,Qc2,Bf5,Nh4,Bg4,Rc1,e5,Nf3,Bxf3,Rxf3,exd4,Rd1,c5,exd4,Bxd4+,Kh1,f5,Nc3,Qf6,Nd5,Qd6,Nc3,Rae8,Rfd3,Qe5,Qc1,g5,Nb5,Be3,Qb1,Bf4,Rd5,Qe4,Qa1,Be5,Qc1,f4,Re1,Qf5', 'Nd6,Qf6,Nxe8', 'https://lichess.org/training/y8kmS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y8MbY', 'Rapid', 'ntv1000', 1840, 'piotrek_0810', 1835, 'e4,c5,f4,Nc6,Nf3,e6,Nc3,Nge7,Bc4,d5,exd5,exd5,Bb5,Bd7,O-O,d4,Ne4,a6,Bxc6,Bxc6,Nxc5,d3,Nxd3,g6,b3,Bg7,Bb2,Bxb2,Nxb2,O-O,Ne5', 'Qd4+,Rf2,Qxb2', 'https://lichess.org/training/y8MbY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y8mNf', 'Blitz', 'marlonfdo', 2000, 'Zerkozare', 1881, 'e4,e6,d4,c6,Nf3,d5,e5,c5,c3,Nc6,Bd3,cxd4,cxd4,h6,O-O,Bb4,Nc3,Nge7,a3,Ba5,b4,Bc7,Nb5,a6,Nxc7+,Qxc7,Be3,Bd7,Rc1,Qd8,Nd2,O-O,Nb3,b6,Qe2,a5,b5,Na7,a4,Rc8,Rxc8,Qxc8,Rc1,Qb7,Bb1,Rc8,Qd3,Rxc1+,Nxc1,Nf5,g4,Nh4,Qh7+,Kf8,Qh8+,Ke7,Qxg7,Nf3+,Kg2,Ne1+,Kg3,Qc7,Qf6+,Ke8,Qh8+,Ke7,Bxh6,Qc3+,Kh4,Ng2+,Kh5', 'Qh3+,Kg5,Qh4#', 'https://lichess.org/training/Y8mNf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y8Mov', 'Rapid', 'aditya178765', 1752, 'p5529485537hh', 1819, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Be3,Bg7,Bc4,e6,c3,Nf6,Nd2,d5,exd5,exd5,Bb3,Ng4,Nxc6,bxc6,Qf3,Nxe3,Qxe3+,Be6,O-O,O-O,Qc5,Bd7,Rfe1,Re8,Nf3,Bf8,Qd4,Qb6,Qf6,Bg7,Qh4,Rxe1+,Rxe1,a5,Re7,a4,Rxd7,axb3,Qe7,Rf8,a3,d4,Ng5,dxc3,Nxf7,c2', 'Nh6+,Bxh6,Qxh7#', 'https://lichess.org/training/y8Mov');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y8S9P', 'Rapid', 'Paselicali', 1793, 'josepaz19', 1799, 'e4,Nf6,Nc3,d6,f4,Bg4,Be2,Bxe2,Ngxe2,e5,d3,Nc6,O-O,Ng4,h3,Nf6,fxe5,dxe5,Bg5,Bc5+,Kh1,Be7,Ng3,Nxe4,Ngxe4,Bxg5,Nxg5,Qxg5,Ne4,Qg6,c3,Ne7,Qb3,b6,Rf3,Nf5,Raf1,O-O,Rxf5,Rad8,Rg5,Qh6,Rf6,Qh4,g3,Qxh3+,Kg1,Rxd3,Nf2', 'Rxg3+,Rxg3,Qxg3+', 'https://lichess.org/training/y8S9P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y8tie', 'Rapid', 'irajic', 1958, 'hasanshehap', 1939, 'e4,e5,Nf3,Nc6,Bc4,d6,Nc3,g6,d4,Bg7,d5,Nce7,O-O,Nf6,Bg5,O-O,Qe2,Nh5,Qe3,f6,Bh6,Nf4,Bxf4,exf4,Qxf4,f5,exf5,Rxf5,Qd2,Rh5,Ng5,Bh6,f4,Bd7,Ne6,Bxe6,dxe6,Bg7,Be2,Rh6,Nd5,Nf5,Bg4,Qh4,h3,Bd4+,Kh2,Qg3+,Kh1,Qxg4,Nxc7,Rxh3+,gxh3', 'Qxh3+,Qh2,Ng3#', 'https://lichess.org/training/y8tie');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y8TOS', 'Rapid', 'vicous', 1911, 'ldpsico', 1871, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nf3,Bd6,O-O,O-O,Bg5,c6,Nbd2,Bg4,c3,Nbd7,Qc2,h6,Bh4,Re8,Rfe1,Qc7,h3,Bxf3,Bxf6,Bxg2,Bh7+,Kh8,Bxg7+,Kxg7,Kxg2,Nf6,Bf5,Rg8,Nf3,Nh5,Rg1,Kh8+,Kh1,Nf4,Qd2,Qe7,Rae1,Qf6,Bg4,h5,Bxh5,Nxh5,Ne5,Bxe5,dxe5,Qf3+,Kh2,Nf4,Rg3,Rxg3,fxg3,Ng6,e6,Kg7,exf7,Qxf7,Qd4+,Qf6,Qe3,Rf8,Kg2,Rf7,h4,Re7,Qf2,Rxe1,Qxe1,Ne5,Qe3,Ng4,Qe2,Qg6,Kh3,Nf6,Qe5,Qg4+,Kg2,Kf7,Qc7+,Qd7,Qxd7+,Nxd7,Kf3,Ne5+,Kf4,Nd3+,Kf5,Nxb2,g4,Na4,g5,Nxc3,g6+,Kg7,h5,d4,Kg5,Ne4+,Kf5,Nf6', 'h6+,Kxh6,Kxf6', 'https://lichess.org/training/Y8TOS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y8uNT', 'Blitz', 'sinenROQUE', 2456, 'GM gmadham', 2574, 'd4,Nf6,Nf3,e6,c3,c5,Bf4,Nc6,e3,d5,Nbd2,Bd6,Bg5,e5,dxe5,Nxe5,Nxe5,Bxe5,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Qe6,Nxe5,Qxe5,Bxf6,gxf6,Qa4+,Ke7,O-O-O,Rhd8,Qb5,b6,Rd2,Rd7,Rhd1,Rad8,g3,h5,h4,Qe6,Qe2,Qg4,Qxg4,hxg4,Kc2,Ke6,Re1,f5,Red1,f6,a4,a6,b3,b5,axb5,axb5,Ra1,d4,cxd4,cxd4,exd4,Rxd4,Rxd4,Rxd4,Ra6+,Ke5,Rb6,b4,h5,f4,h6,fxg3,fxg3,f5,h7,Rd8,Rxb4,Rh8,Rb7,Ke4,Rf7,Kf3,Rxf5+,Kxg3,Rf7,Kh2,Kc3,g3,Rg7,g2,Kc4,g1=Q,Rxg1,Kxg1,b4,Rxh7,b5,Kf2,Kc5,Ke3,Kc6,Rh6+,Kc7,Kd4,b6,Kc5,b7,Rh7+,Kc8,Kc6,b8=Q', 'Rh8#', 'https://lichess.org/training/Y8uNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y8wlG', 'Blitz', 'vult', 1515, 'septum', 1616, 'h3,e5,a3,d5,d4,e4,f3,exf3,exf3,Nf6,Qe2+,Be7,Bg5,Nbd7,Nc3,O-O,O-O-O,h6,Bxf6,Bxf6,Nxd5,Bg5+,Kb1,Re8,Qc4,b6,Nxc7,b5,Qc3,b4,axb4,Rb8,Nxe8,Qxe8,Bc4,Nb6,Bb3,Be6,d5,Rd8,Qc6,Qe7,Ne2,Bd7,Qb7,Qe5,Qxa7,Rb8,Nc3,Bf6,Rhe1,Qd6,Ne4,Qe5,Nxf6+,Qxf6,Qxb8+,Kh7,c4,Bf5+,Ka2,Nd7,Re2', 'Qa6+,Ba4,Qxa4#', 'https://lichess.org/training/y8wlG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y8Yis', 'Rapid', 'KingKari', 1772, 'sarahandyehuda4555', 1844, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Nxe4,Bxb4,Nxb4,Qa4,a5,a3,Nd5,Bc4,c6,Bxd5,cxd5,O-O,O-O,Qb3,Nf6,Nc3,a4,Nxa4,Qa5,Nb6,Ra6,Nxc8,Rxc8,Qxb7,Rac6,b4,Qa6,Qxa6,Rxa6,b5,Ra5,a4,Rca8,b6,Kf8,b7,Rb8,Rfb1,Ke7,Ne5,Kd6,Nxf7+,Kc7,Rb5,Rxb5,axb5,Rxb7,Rc1+,Kb6,Rc5,Ra7,g3,Ra5,Nd6,Ne4,Nxe4,dxe4,Kf1,Rxb5,Rxb5+,Kxb5,Ke2,Kc4,Ke3,d5,h4,Kc3,g4,Kc2,Kf4,Kd3,Ke5,Kc4,g5,h6', 'gxh6,e3,fxe3', 'https://lichess.org/training/y8Yis');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y92J8', 'Rapid', 'patekphilippe', 1907, 'mousaJalali', 1901, 'e4,c5,Nf3,e6,c3,Ne7,d4,cxd4,cxd4,Ng6,Nc3,Be7,Bd3,d6,O-O,O-O,Re1,Nd7,Be3,a6,Qd2,b5,a3,Bb7,Rac1,Re8,d5,e5,Ne2,Ndf8,Ng3,Bc8,Rc2,Bd7,Nf5,Rc8,Rec1,Rxc2,Rxc2,Nh8,Nxe7+,Rxe7,Bg5,f6,Be3,Nfg6,Qc1,Nf7,Rc7,Re8,Bb6,Qe7,a4,bxa4,Bxa6,Nf4,Bb5', 'Bxb5,Rxe7,Ne2+,Kh1,Nxc1', 'https://lichess.org/training/y92J8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y979m', 'Classical', 'FrogLife', 1749, 'Foreverbeginner2', 1868, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Be7,d3,a6,Bc4,Nf6,Bg5,Na5,Bb3,Nxb3,axb3,h6,Bh4,Nh7,Bg3,Ng5,Nc3,c6,d4,Nxf3+,gxf3,f5,dxe5,dxe5,Qxd8+,Bxd8,Bxe5,O-O,Rg1,Bf6,Bd6,Re8,O-O-O,Bxc3,bxc3,fxe4,f4,Bxh3,Be5,Re7,Rg3,Bf5,Rd4,a5,Kb2,h5,Rg5,g6,Rd6,Kh7,c4,h4,Rg1,h3,Rh1,a4,b4,a3+,Ka2,Ra4,c3,Ra8,c5,Be6+', 'Rxe6,Rxe6,Rxh3+,Kg8,Rh8+', 'https://lichess.org/training/Y979m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y97yS', 'Rapid', 'alighr', 1644, 'padredoom', 1704, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,O-O,Nf6,Nc3,a6,a3,d6,h3,b5,Bd5,Nxd5,Nxd5,Be6,b4,Ba7,Qe2,Bxd5,exd5,Ne7,c4,bxc4,dxc4,c6,Be3,cxd5,cxd5,Nxd5,Bxa7,Rxa7,Rad1,Nc3,Qe3,Rc7,Rd3,Nb5,Nxe5,O-O,Qg3,Qf6,Ng4,Qg6,Rfd1,Rc6,a4,Nc7,Rxd6,Rxd6,Rxd6,Qb1+,Kh2,Qxb4,Nxh6+,Kh7,Qd3+,g6,Ng4,Ne6,Nf6+,Kg7,Ng4,Qf4+,g3,Qxa4,Rxa6,Qb4,Qe3,Qb2,Rb6,Qd4,Qh6+,Kg8,Rb4,Qg7,Qh4,g5,Nh6+,Kh7,Qe4+,Kxh6,h4,gxh4', 'Qxh4+,Kg6,Rg4+,Kf5,Rxg7', 'https://lichess.org/training/y97yS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y9Ci7', 'Rapid', 'VanoM', 2036, 'RicoEstupendo', 1884, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,d4,Bg4,dxe5,Bxe5', 'Qxd8+,Rxd8,Nxe5', 'https://lichess.org/training/y9Ci7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y9CSF', 'Blitz', 'bosykarmelita', 2171, 'IM pawnwonder', 2310, 'e4,c5,Nf3,Nc6,c4,g6,d4,cxd4,Nxd4,Bg7,Be3,Nf6,Nc3,O-O,Be2,d6,O-O,Bd7,Rb1,Nxd4,Bxd4,Bc6,f3,a5,a3,a4,Nd5,Nd7,Bxg7,Kxg7,Qd4+,Kg8,Rfd1,Bxd5,cxd5,Nc5,g3,Qa5,Kg2,Nb3,Qe3,Rfc8,Bd3,Rc7,e5,Rac8,exd6,exd6,h4,Qc5,Qf4,Qd4,Qxd4,Nxd4,Bxg6,hxg6,Rxd4,Rc2+,Kh3,b5,Kg4,Kg7,b3,axb3,Rxb3,R8c5,h5,gxh5+,Kxh5,Rg2,g4,f6,Kh4,Rc1,Kh3,Rcg1,Rxb5,Kg6,f4,Rg3+,Kh2,R1g2+,Kh1,Rxg4,Rb6,R2g3,Kh2,Rxa3,Rxd6,Rh4+,Kg2,Rg4+,Kf2,Ra2+,Ke3', 'Rg3+,Ke4,Re2#', 'https://lichess.org/training/y9CSF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y9ejP', 'Rapid', 'mancity75010', 1707, 'K4hp', 1777, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,b5,Bd3,e6,O-O,Be7,f4,O-O,e5,Nfd7,Nf3,d5,Nd4,Nc5,Be2,Bb7,b4,Ne4,Nxe4,dxe4,a3,Qc7,Qe1,Nc6,c3,Nxd4,cxd4,Rfd8,Rc1,Qb6,Qf2,Bd5,f5,Rf8', 'f6,Bxf6,exf6', 'https://lichess.org/training/y9ejP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y9I6t', 'Bullet', 'ChessStrategist', 2333, 'NM LeonIlyich', 2362, 'Nf3,g6,d4,Bg7,c3,c5,g3,cxd4,cxd4,d6,Nc3,Nf6,Bg2,O-O,O-O,Nc6,d5,Nb8,e4,Nbd7,h3,a6,Re1,b5,Bf4,Nh5,Be3,Nb6,Bd4,Nc4,Bxg7,Kxg7,b3,Nb6,Nd4,Bd7,Rc1,Rc8,Qd2,Nf6,f4,Ng8,e5,dxe5,fxe5,e6,d6,Nh6,Ne4,Nd5,Rxc8,Qxc8,Rc1,Qb8,Nf6,Bc8,d7,Bb7,Bxd5,Bxd5,Nxd5,exd5,e6,Qxg3+,Qg2,Qe3+,Qf2,Qxc1+,Kg2,Qg5+,Qg3,Qxg3+,Kxg3,Nf5+', 'Nxf5+,gxf5,e7', 'https://lichess.org/training/y9I6t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y9Jzs', 'Blitz', 'LewAlcindor', 1903, 'iurij', 1757, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Nxf3,g6,Bd3,Bg7,O-O,O-O,Qe1,c6,Bg5,Re8,Rd1,Nbd7,Kh1,Nb6,Qh4,Nbd5,Ne4,Nxe4,Bxe4,Nf6,Bd3,Ng4,h3,Nf6,c3,Qd6,Rde1,Be6,a3,Nh5,Ne5,f6,Nxg6,Ng3+,Kg1,fxg5', 'Nxe7+,Qxe7,Qxh7#', 'https://lichess.org/training/Y9Jzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y9lX9', 'Classical', 'g0l0va', 1666, 'TunaDurna', 1672, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bb4,O-O,Bxc3,bxc3,Nxe4,Re1,d5,d3,Nxc3,Qd2,dxc4,Qxc3,cxd3,Nxe5,Nxe5,Bg5,Qd6,Rxe5+,Be6,Bf4,dxc2', 'Rxe6+,Qxe6,Re1,O-O,Rxe6', 'https://lichess.org/training/y9lX9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y9mCa', 'Blitz', 'mahuzi', 1652, 'casillas1994', 1707, 'd4,e6,c4,Nf6,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,Nf3,O-O,e3,d5,a3,Bxc3+,bxc3,c6,c5,Nd7,Bd3,e5,Bc2,e4,Nd2,Qg5,O-O,Nf6,g3,Bg4,Qe1,Bf3,Nxf3,exf3,Qd1,Qg4,Re1,Ne4,Bd3,Nxc3,Qb3,Nb5,Bxb5,cxb5,Qxb5,a6,Qf1,Rfb8,Rab1,Qe6,Rb6,Qe4,Reb1,h5,Qh3,g6,Qd7,Qd3,Rxb7', 'Qxb1+,Rxb1,Rxb1#', 'https://lichess.org/training/Y9mCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y9Smr', 'Classical', 'gjunior', 1646, 'solpp', 1647, 'e4,e5,Nf3,f6,d4,exd4,Nxd4,Bc5,Bc4,Bxd4,Qxd4,Nc6,Qd5,Qe7,Nc3,Nb4,Qd1,c6,a3,d5,Bb3,Na6,O-O,dxe4,Nxe4,Nh6,Bxh6,gxh6,Re1,Kf8,Qh5,Qg7,Nd6,Bg4,Re8+,Rxe8', 'Qxe8#', 'https://lichess.org/training/Y9Smr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y9sY5', 'Classical', 'yogesh909', 1785, 'LotsaLizards', 1811, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Bc5,e5,Ng4,Bf4,d5,exd6,Bxd6,Re1+,Be7,Ne5,Ngxe5,Bxe5,O-O,c3,dxc3,Nxc3,Nxe5,Rxe5,Bd6,Rd5,Be6,Rd4,Bxc4,Rxc4,Re8,Rd4,Qf6,Ne4,Qh6,Nxd6,cxd6,Rxd6,Qg5,Rd7,Rad8,Rxd8,Qxd8,g3,Qxd1+,Rxd1,Kf8,Rd7,Rb8,b4,Ke8,Rc7,Kf8,a4,h5,h4,g6,b5,Kg7,a5,Kf6,a6,bxa6,bxa6,Ra8,Kf1,Ke6,Ke2,f5,Rg7,Kf6,Rb7,g5,hxg5+,Kxg5,Kf3,Kf6,Kf4,Kg6,f3,Kf6,Rc7,Ke6,Kg5,Rg8+,Kxh5,Kf6,Rxa7', 'Rh8+,Rh7,Rxh7#', 'https://lichess.org/training/y9sY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y9U1w', 'Rapid', 'KumplangKov', 1870, 'Mertzy9', 1805, 'd4,g6,c4,Bg7,Nc3,Nf6,Nf3,d5,cxd5,Nxd5,e4,Nb6,e5,Bf5,Be3,Nd5,Nxd5,Qxd5,Be2,O-O,O-O,Nd7,Qd2,Rac8,a3,Rfd8,Rac1,c5,Bc4,Qc6,Bh6,Nxe5,Bxg7,Nxf3+,gxf3,Qxf3,Be2,Rxd4,Bxd4,Qd5,Qf4,cxd4,Rxc8+,Bxc8,Bf3,Qb5,Rc1,Bh3,Qxd4', 'Qg5+,Bg4,Qxc1+', 'https://lichess.org/training/y9U1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('y9wxj', 'Classical', 'bekos', 1686, 'fervasco', 1684, 'Nc3,c5,e3,g6,Nce2,Bg7,Rb1,Nf6,h3,O-O,d3,d5,Bd2,e5,c3,Nc6,Nf3,Bf5,g4,Bxd3,Ng3,Bxb1,Qxb1,e4,Nh4,Nd7,Ng2,Nde5,Be2,Re8,Qd1,Nd3+,Bxd3,exd3,O-O,d4,e4,Qf6,f4,Qd8,Kh1,Qb6,Qc1,dxc3,Bxc3,Nd4,f5,Ne2,Nxe2,dxe2,Re1,Rxe4,Bxg7,Kxg7,Qc3+,f6,g5,Qb4,Qxf6+,Kg8,fxg6,Rf8', 'gxh7+,Kxh7,Qxf8', 'https://lichess.org/training/y9wxj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y9YB5', 'Rapid', 'MonkeyResearcher', 1684, 'aparker', 1680, 'e4,a6,d4,b5,Nf3,Bb7,Bd3,h6,h4,e6,c3,Nf6,e5,Nd5,Rh3,c5,Rg3,c4,Be4,Qb6,Qc2,b4,Nbd2,Qb5,h5,a5,Nh4,Na6,a4,Qc6,Bg6,b3,Bxf7+,Kxf7,Qg6+,Ke7,Rf3,Kd8,Ne4,Kc7,Qf7,Be7,Ng6,Rhe8,Nd6,Bxd6,exd6+,Qxd6,Bf4,Nxf4,Rxf4,Qd5,O-O-O,Qxg2,Ne5,Rad8,Nxc4,Rf8,Qe7,Rxf4', 'Qd6+,Kc8,Nb6#', 'https://lichess.org/training/Y9YB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Y9Zzg', 'Rapid', 'KnightsFriend', 1876, 'mjay1', 1874, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bg4,Bf4,e6,e3,Bb4,h3,Bh5,Bd3,Qa5,Qc2,Bxf3,gxf3,Nh5,Bh2,h6,c5,O-O,a3,Bxc3+,Qxc3,Qd8,Rg1,b5,b4,a5,Ke2,axb4,axb4,Rxa1,Qxa1,Nd7,e4,dxe4,Bxe4,Ndf6,Bxc6,Nd5,Bd6,Nhf4+,Kf1,Qh4,Bxd5,Qxh3+,Ke1,Nxd5,Bxf8,Kxf8,Qa8+,Ke7,Qb7+,Kf6,Qxb5,Qxf3,Qa5,Nc3,Qd8+,Kf5,Kf1,Nd1,Qh4', 'Ne3+,Ke1,Qd1#', 'https://lichess.org/training/Y9Zzg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yA1wq', 'Blitz', 'brann27', 1714, 'Caballuno', 1617, 'b3,e5,Bb2,Nc6,Nf3,d6,e3,Bg4,Be2,Be7,h3,Bh5,O-O,Nf6,Nxe5,Bxe2,Qxe2,dxe5,Nc3,O-O,Rad1,Bd6,d4,e4,Nb5,Qd7,d5,Ne5,Nxd6,cxd6,c4,Rfe8,f4,Ng6,Bxf6,gxf6,f5,Ne5,Rf4,Kh8,Rh4,Rg8,Qh5,Rg7,Qh6,Rag8,Qxf6,b5', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/yA1wq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ya2jx', 'Rapid', 'fran9500', 1654, 'e5d5', 1877, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,d3,h6,Nf3,e4,Nfd2,Bg4,f3,Nxc4,dxc4,exf3,Nxf3,Be7,O-O,O-O,Qd4,b6,Nc3,Bc5,Qxc5,bxc5,Ne5,a6,Be3,Qd6,Bf4,Qb6,b3,Qb4,Na4,Rae8,Nc6,Qb7,Nxc5,Qb6,b4,a5,a3,axb4,axb4,Ne4,Be3,Nxc5,Bxc5,Qb7,Bxf8,Kxf8,Ra7,Qc8,Rfa1,Qf5,Ra8,Qxc2', 'Rxe8+,Kxe8,Ra8+,Bc8,Rxc8+,Kd7,Rd8#', 'https://lichess.org/training/Ya2jx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ya4qc', 'Classical', 'ekopp2000', 1714, 'yoshirojujihara', 1690, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Qe2,d5,Be3,Qb4+,Nbd2,Qxb2,Nb3,Qc3+,Kd1,a5,a4,Bb4,Bd2,Qc4,Qxe4+,dxe4,Bxc4,exf3,gxf3,Bxd2,Kxd2,O-O,Rae1,Bh3,Rhg1,Nd7,Rg3,Bf5,Bd3,Bxd3,Kxd3,Nf6,Reg1,Nh5,Rg5,g6,Rxa5,Rxa5,Nxa5,Nf4+,Ke4,Ne2,Rg5,f5+,Kd3,Nf4+,Kc4,b6,Nc6,Ra8,Kb5,Nh3,Rg2,Nf4,Rg1,Ne2,Re1,Nc3+,Kb4,Nxa4,Re7,b5,Kxb5,Nc3+,Kb4', 'Nd5+,Kc4,Nxe7', 'https://lichess.org/training/Ya4qc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YA4qd', 'Blitz', 'carlosmaia', 1928, 'Nenapa', 1868, 'c4,c6,Nc3,d5,cxd5,cxd5,d4,Nc6,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,Ng5,Qb6,e4,dxe4,Ngxe4,Nxe4,Nxe4,Nxd4,Be3,e5,b3,Qb4,Kh1,Bf5,Ng5,Nc2,Rc1,Nxe3,fxe3,Qb6,e4,Be6,Rc2,a5,Qc1,a4,bxa4,Rxa4,Rb2,Qa6,Qb1,Rxa2,Rxb7,Bc4,Rd1,h6,Nf3,Be2,Re1,Bxf3,Bxf3,Ra8,Qb3,Ra1', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/YA4qd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ya5JW', 'Rapid', 'paulogaspar', 2014, 'DaanNoordenbos', 2340, 'e4,c5,Nf3,Nc6,Bc4,d6,O-O,Nf6,Ng5,e6,Nc3,Be7,f4,O-O,e5,dxe5,fxe5,Nd5,Bxd5,exd5,Nf3,d4,Ne4,Bf5,d3,Bg6,Bg5,Bxg5,Nfxg5,Nxe5,Nf3,Ng4,Qd2,Ne3,Rf2,Bxe4,dxe4,Qe7,Re1,Qxe4,c3,Rad8,cxd4,cxd4,Qb4,Nc2', 'Qxf8+,Kxf8,Rxe4', 'https://lichess.org/training/ya5JW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ya66J', 'Rapid', 'Kijevatov', 1785, 'Tremolo', 1846, 'e4,d6,Nf3,c5,d4,cxd4,Nxd4,Nf6,Nc3,Bd7,Bd3,e6,O-O,Nc6,Nxc6,Bxc6,Bg5,Be7,h3,O-O,f4,Qb6+,Kh1,Qxb2,Qd2,Qa3,Ne2,Nxe4,Bxe4,Bxe4,Bxe7', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/ya66J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ya6EI', 'Blitz', 'peonamigo', 1836, 'STEVANIII', 1775, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,d3,d6,c3,O-O,Bxc6,bxc6,d4,exd4,cxd4,Bb6,e5,dxe5,dxe5,Qxd1,Rxd1,Nd5,Bd2,Bg4,Nc3,Bxf3,gxf3,Bd4,Rac1,Bxe5,Ne4,f5,Ng3,f4,Ne4,Bxb2,Rxc6,Be5,Ba5,Nb6,Rc5,Bd6,Nxd6,cxd6,Rxd6,Rad8,Rdc6,Rd1+,Kg2,Nd5,Re6,Rf5,Rc8+,Kf7,Ra6,Rg5+,Kh3,Rdg1,Rxa7+,Ne7,Kh4,Rg6,Rc5,Rh6+,Rh5', 'g5+,Kh3,Rxh5#', 'https://lichess.org/training/ya6EI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ya7lX', 'Classical', 'jatinmalkani1234', 1612, 'neerajns', 1619, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,Nf6,Nc3,Bg4,h3,Bh5,Re1,a6,a3,Nd4,d3,Bxf3,gxf3,Qd7,Kg2,e6,f4,Be7,e5,dxe5,fxe5,Nd5,Bxd5,exd5,Qg4,Qxg4+,hxg4,Nxc2,e6,Nxe1+,Kf1,Nxd3,exf7+,Kxf7,Nxd5,Nxc1,Rxc1,Bg5,Rxc5,Rac8,Ra5,Rc1+,Kg2,Rc2,Nb4,Rxb2,Rxg5,Rd8,Rf5+,Kg6,Kg3,Rb3+,Kg2,Rxa3,Nd5,Ra4', 'Ne7+,Kh6,Rh5#', 'https://lichess.org/training/Ya7lX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ya9uu', 'Rapid', 'meAnonymous', 1680, 'AlfredTupang', 1707, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,Bc5,Nf3,Qf6,Nc3,Nd4,Nd5,Nxf3+,Qxf3,Qd8,Bd3,c6,Nc3,Qc7,Bc4,Nf6,Bg5,Be7,Bxf6,Bxf6,O-O-O,d6,Rhe1,Be6,Bxe6,fxe6,h3,h5,g4,hxg4,hxg4,O-O-O,Kb1,Be5,Qe3,Kb8,f4,Bxc3,Qxc3,g6,Rd3,d5,exd5,Rxd5,Rxd5,cxd5,Rxe6', 'Rh1+,Re1,Qxc3', 'https://lichess.org/training/Ya9uu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yAD59', 'Rapid', 'zahron-algerie', 1885, 'LeXuSBisHOP', 1765, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,Nbd7,O-O,e6,Re1,Be7,c4,Qc7,a3,O-O-O,b4,Kb8,c5,Nd5,Bd2,f5,Ne5,Nxe5,Rxe5,Qd7,Rae1,Nc7,Nxf5,Bf6,Nd6,Bxe5,dxe5,Nd5,b5,Rhf8,bxc6,Qxc6,Rb1,Rd7,Qd4,Qa6,g3,Qxa3,c6,Rc7,Rxb7+,Rxb7,cxb7,Qf3,Qc5,Qd1+,Kg2,Qxd2', 'Qc8+,Rxc8,bxc8=Q#', 'https://lichess.org/training/yAD59');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yAF9W', 'Blitz', 'PreparingGM', 1885, 'Reni-Takikawa', 1894, 'e4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qe7,Nf5,Qe5,Nxg7+,Kf8,Bxc5+,Qxc5,Nf5,Nxe4,Qh5', 'Qxf2+,Kd1,Qd2#', 'https://lichess.org/training/yAF9W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YaGJd', 'Classical', 'rooter63', 2051, 'Julep', 2060, 'e4,d6,d4,Nf6,Nc3,g6,f3,Bg7,Be3,c6,Qd2,b5,g4,h5,g5,Nfd7,O-O-O,Qa5,Kb1,Na6,a3,c5,Nd5,Qxd2,Rxd2,Bb7,Bxb5,Bxd5,Bxd7+,Kxd7,exd5,Rhc8,Ne2,c4,c3,Nc7,Nf4,Rab8,Re1,Rb5,b4,cxb3,c4,Rb7,c5,dxc5,dxc5,Nb5,c6+,Kd8,cxb7', 'Nxa3#', 'https://lichess.org/training/YaGJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yah6K', 'Blitz', 'asdfgh2828', 1704, 'BanvoGM', 1718, 'e4,g6,Nf3,Bg7,Nc3,e6,d4,Ne7,Bb5,c6,Bd3,d5,exd5,cxd5,O-O,O-O,Bf4,Nbc6,Qd2,Nxd4,Nxd4,Bxd4,Bh6,Bg7,Bxg7,Kxg7,Rfe1,b6,Ne2,Bb7,Ng3,d4,Qf4,Rb8,Qg5,Qd5,Nh5+,Kh8', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/Yah6K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yahGO', 'Rapid', 'moteriyadeep', 1760, 'Omael_21', 1807, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Qe2,d5,Be3,Bg4,Qb5+,Nc6,Qxb7,Qb4+,Qxb4,Nxb4,Bd3,Bxf3,gxf3,Nxd3+,cxd3,Bb4+,Ke2,Nf6,Rg1,g6,Bh6,O-O-O,Bg7,Rhe8+,Kd1,Nh5,Be5,f6,a3,Bd6,Bg3,f5,Bh4,Rd7,h3,Nf4,Bg3,Nxd3,Bxd6,Nxf2+,Kd2,Rxd6,h4,Rde6,Nc3,Nh3,Rge1,Rxe1,Rxe1,Rxe1,Kxe1,c6,Ne2,Kd7,Kf1,h6', 'Kg2,Ng5,hxg5', 'https://lichess.org/training/yahGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YAHIu', 'Rapid', 'mentin', 1850, 'Alexmahone', 1873, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,h3,d6,Nd2,h6,Ngf3,Be6,Bxe6,fxe6,Nf1,d5,exd5,exd5,Be3,Bxe3,fxe3,e4,dxe4,Nxe4,Qd3,Rxf3,O-O-O,Rf8,Qb3,Ne7,Rd4,Kh8,Nd2,Ng3,Re1,Rf2,Kb1,Rxg2,Nf3,Ne4,Qd3,Rg3,Ne5,Nd6,Rf1,Rxh3,Rdf4,c6,a3,Kg8,Qd4,Qe8,Rg1,Nef5,Qc3,Ne4,Rxe4,dxe4,Ng4,Rd8,Nf6+,Kh8,Nxe8,Rxe8,Qb3,Rxe3,Qxb7,Re7', 'Qc8+,Kh7,Qxf5+', 'https://lichess.org/training/YAHIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yaHpV', 'Rapid', 'rustecharope', 1641, 'INSTINCTIV', 1775, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Bxc3+,bxc3,Qe7,e3,Ngxe5,Nxe5,Nxe5,Qd4,d6,c5,O-O,cxd6,cxd6,Be2,Bd7,O-O,Bc6,Rfd1,Rfd8,f3,h5,Bg3,g5,f4,Ng4,Bxg4,hxg4,fxg5,Qxg5,Rf1,Re8,Rf4,f5,Qxd6,Rxe3,Qc5,Re2', 'Qc4+,Kg7,Qxe2', 'https://lichess.org/training/yaHpV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yAHVX', 'Bullet', 'isepcastle', 2159, 'IM bubeng01', 2238, 'e4,c5,f4,d5,e5,Nc6,g3,Bf5,Bg2,e6,Nh3,h6,O-O,Nge7,c3,d4,c4,Qd7,a3,d3,Nc3,Nd4,b4,Nec6,g4,Bh7,b5,Na5,Qa4,Qc7', 'b6+,Qd7,Qxa5', 'https://lichess.org/training/yAHVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yaiAb', 'Rapid', 'sammysparkle', 1723, 'Zyen', 1698, 'c4,e5,Nc3,Bc5,g3,a6,Bg2,d6,Nf3,Ba7,e3,Qf6,O-O,Ne7,d4,Nbc6,d5,Na5,Qa4+,Bd7,Qxa5,O-O-O,Qa3,Kb8,b4,h5,b5,Nf5,Ne4,Qg6,bxa6,b6,Qd3,h4,Nxh4,Nxh4,gxh4', 'Bh3,Ng3,Qxd3', 'https://lichess.org/training/yaiAb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yAIgW', 'Rapid', 'mihail1234', 1631, 'Matfiej', 1622, 'd4,d5,Nf3,Nf6,e3,g6,Bd3,Bg7,O-O,c6,Re1,Nbd7,c3,e6,Nbd2,O-O,e4,b6,e5,Ne8,Ng5,Bb7,Re3,Qxg5,Rg3,Qe7,Nf3,c5,Ng5,cxd4,cxd4,Nc7,Qc2,Nxe5,dxe5,Bxe5,Rh3,h5,g4,hxg4,Rh4,Rac8,Rxg4,Nb5,Qe2,Bg7,Qe3,Bd4,Qh3,Rfe8,Qh7+,Kf8,Qh6+,Bg7,Qh7,Nd6,Bxg6,Qc7,Bxf7,d4,Qg8+,Ke7,Qxg7', 'Qxc1+,Rxc1,Rxc1#', 'https://lichess.org/training/yAIgW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YAJzH', 'Blitz', 'ChristianHdz', 1610, 'matcgn', 1560, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bd3,Bxd3,Qxd3,e6,Bf4,Qa5+,Bd2,Bb4,c3,Be7,b4,Qc7,a4,Ngf6,O-O,O-O,Bg5,h6,Bxf6,Bxf6,Rfe1,Be7,Ne4,Nf6,Nxf6+,Bxf6,Nd2,Rac8,Ne4,Be7,Re3,Rfe8,Rg3,Bf8', 'Nf6+,Kh8,Qh7#', 'https://lichess.org/training/YAJzH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YAKi0', 'Rapid', 'Kleopatra2019', 1895, 'Japaneer', 1888, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d6,d3,e5,Bg5,f6,Be3,f5,exf5,Bxf5,Nc3,Nf6,Qd2,Be7,Ng5,h6,Nge4,O-O,f4,Nxe4,Nxe4,d5,Nxc5,d4,fxe5,Bxc5,Bf4,Qh4,Rae1,Be6,Rf3,g5,Bg3,Qh5,Ref1,Rxf3,Rxf3,Rf8,Rf6,Rxf6,exf6,Kf7,Be5,Qg4,h3,Qf5,Qe2,Kg6', 'g4,Qxe5,Qxe5', 'https://lichess.org/training/YAKi0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YAKLC', 'Rapid', 'jcosme', 1764, 'ViktorChmel', 1843, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Bd7,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nc3,Qxe5,Re1,Qc7,Nxd5,Qc8,Bf4,Be7,Nc7+,Kf8,Nxa8,Qxa8,Rc1,Bc6,Be4,Nf6,Bxc6,bxc6,Qa4,Nd5,Qxc6,Qd8,Bd2,g6,Qc8,Kg7,Bc3+,Nxc3,Qxc3+,Bf6,Qa3,Qb6,b3,Rd8,Rcd1,Bd4,Rf1,Bxf2+,Kh1,Bd4,Qe7,Rf8,Qd7,Bf6,Rf3', 'Rd8,Qxd8,Bxd8', 'https://lichess.org/training/YAKLC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yAkPq', 'Blitz', 'GM MarcNarciso', 2537, 'NativeThread', 2392, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,e3,Nc6,Nf3,Ne4,Bxe7,Qxe7,Rc1,Qb4,Bd3,Nxc3,bxc3,Qb2,Rc2,Qb6,O-O,Qa5,Qe2,O-O,Rb1,dxc4,Bxc4,Rd8,e4,a6,e5,Ne7,Ng5,h6,Ne4,b5,Bd3,Bd7,Qg4,Bc6,Nf6+,Kh8,Nh5,Rg8,Nf6', 'gxf6,Qh4,Rxg2+', 'https://lichess.org/training/yAkPq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YaLnk', 'Blitz', 'FeedTheTweed', 2343, 'mariomarshall', 2228, 'e4,d6,Nc3,Nf6,g3,g6,Bg2,Bg7,d3,O-O,Be3,c5,h3,Nc6,Qd2,Be6,Bh6,Nd4,Rc1,Bxh6,Qxh6,b5,h4,b4,Nce2,Qa5,b3,Qxa2,Nxd4,cxd4,h5,Rac8,hxg6,fxg6,Nf3,Rxc2,Rxc2,Qxc2,O-O,Ng4,Qh4,Qxb3,Nxd4,Qa2,Qxe7,Rxf2,Qe8+,Kg7,Nxe6+,Kh6,Nf4', 'Rxf1+,Kxf1,Qf2#', 'https://lichess.org/training/YaLnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yamkl', 'Rapid', 'babazyaka', 1898, 'x021pa', 1911, 'e4,b6,d4,Bb7,Bd3,Nf6,Nc3,d6,Nf3,e6,O-O,Be7,h3,h6,e5,dxe5,dxe5,Nd5,Nxd5,Bxd5,Bb5+,Nd7,c4,Bb7,Bxd7+,Qxd7,Qxd7+,Kxd7,Rd1+,Ke8,a3,f6,exf6,Bxf6,Nd4,Rd8,Be3,Ke7,Rab1,Rd7,Nb5,a6,Rxd7+,Kxd7,Rd1+,Kc6', 'Na7#', 'https://lichess.org/training/yamkl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YAMoL', 'Rapid', 'BCA_Fia08', 2085, 'aJxzAK', 2227, 'd4,Nf6,Bf4,d6,e3,c6,c4,g5,Bxg5', 'Qa5+,Nc3,Qxg5', 'https://lichess.org/training/YAMoL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yAMQ9', 'Bullet', 'chess98c', 1601, 'alekhine_russian', 1658, 'd4,Nf6,e3,g6,h3,Bg7,Nf3,O-O,Bd3,c5,c3,b6,Nbd2,Bb7,O-O,Nc6,Re1,cxd4,exd4,d6,Ne4,Nxe4,Bxe4,Rb8,Be3,Na5,Bxb7,Rxb7,Qd2,Nc4,Qd3,Nxe3,Rxe3,Qc7,Rae1,e6,Nh2,Bh6,R3e2,Rbb8,Qf3,Rbe8,Ng4,Bg7,Nf6+,Bxf6,Qxf6,Qe7,Qxe7,Rxe7,d5,e5,f4,f6,Kf2,Rfe8,g3,e4,g4,f5,gxf5,gxf5,Ke3,Kf7,Rg2,Kf6,Reg1,a5,h4,Rf7,h5,Ree7', 'Rg6+,hxg6,Rxg6#', 'https://lichess.org/training/yAMQ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yaNHt', 'Rapid', 'UnhappyFrog', 1903, 'b12392', 1803, 'e4,e5,Nf3,d6,Bc4,Bg4,O-O,Bxf3,Qxf3,Nf6,d3,g6,Nc3,c6,Bg5,Bg7,Rad1,O-O,d4,h6,dxe5,hxg5,exf6,Bxf6,Rfe1,Be5,b3,b5,Bf1,b4,Ne2,Nd7,Nd4,c5,Nb5,Nf6,Qd3,Ne8,f4,Bxf4,e5,Bxe5', 'Rxe5,dxe5,Qxd8,Rxd8,Rxd8', 'https://lichess.org/training/yaNHt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yapC0', 'Classical', 'brian_27', 1771, 'agarden', 1828, 'c4,c6,g3,e5,Bg2,Nf6,b3,Bc5,e3,O-O,Nf3,Re8,O-O,d5,d4,exd4,exd4,Bd6,Bb2,Bg4,h3,Bf5,Nc3,Nbd7,Nh4,Be6,cxd5,Nxd5,Nxd5,Bxd5,Nf5,Bf8,Ne3,Bxg2,Kxg2,Nf6,Qf3,Re6,Rfd1,Nd5,Ng4,Qg5,Bc1,Qg6,Ne5,Qf6,Qg4,Rd8', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/yapC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yAPV9', 'Blitz', 'Graf-Krolok', 1505, 'xander_8', 1514, 'd4,d5,c4,g6,Nc3,e6,Nf3,Bg7,e3,Ne7,cxd5,exd5,Bd3,O-O,O-O,Bg4,h3,Bd7,Rb1,Re8,Ne2,Nf5,Bd2,Nc6,a3,Qc8,Ng3,Nxg3,fxg3,Bxh3,gxh3,Qxh3,Kf2,Bh6,Rh1,Bxe3+,Bxe3,Qe6,Qd2,f5,Ng5,Qd6,Bf4,Qf6,Nxh7,Qg7,Kf3,Nxd4+,Kg2,c5,Ng5,Re7,Qd1,Rae8,Rh7,Re2+,Kh3,Qxh7+,Nxh7,Kxh7,Qh1,Kg7,Qxd5', 'Rh8+,Bh6+,Rxh6#', 'https://lichess.org/training/yAPV9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yaqrm', 'Rapid', 'muhlama', 1760, 'chesshero1128', 1707, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,Nf6,Nf3,e6,Bf4,Bd6,Be5,Bxe5,Nxe5,O-O,O-O-O,Nbd7,Nc4,Ng4,Qf3,Ngf6,Ne4,Nxe4,Qxe4,Nf6,Qf3,b5,Ne5,Rc8,g4,Nd5,Rhg1,c5,dxc5', 'Qg5+,Kb1,Qxe5', 'https://lichess.org/training/Yaqrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YAQwT', 'Rapid', 'Kulwantrana1955', 1727, 'Darth-Vader66', 1709, 'd4,b6,c4,Bb7,Nc3,e6,e4,Bb4,a3,Bxc3+,bxc3,Ne7,Bd3,O-O,Nf3,c5,d5,exd5,cxd5,d6,c4,Nd7,O-O,Nf6,e5,dxe5,Nxe5,Nd7,f4,Nxe5,fxe5,Ng6,Bb2,Qg5,Rf5,Qe3+,Kh1,Nf4,Bc1', 'Qxd3,Qxd3,Nxd3', 'https://lichess.org/training/YAQwT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yArVw', 'Blitz', 'Grantler', 1827, 'Kriton50', 1707, 'e4,c6,Nf3,d5,exd5,Qxd5,d4,Qd8,c4,Bf5,Nc3,Nf6,Be2,e6,Bg5,Be7,Ne5,O-O,O-O,Nbd7,f4,Nxe5,Bxf6,Bxf6,fxe5,Be7,Bg4,Bg6,Qf3,c5,d5,exd5,cxd5,Qb6,b3,Rad8,Rad1,a5,Bf5,Bxf5,Qxf5,c4+,Kh1,cxb3,d6,Bh4,Nd5,Qc5,Qg4,Bf2,Nf6+,Kh8,Ne4,Qb4,Rxf2,h5,Qxh5+,Kg8,Nf6+,gxf6,exf6,Qe4,Rd4', 'Qe1+,Rf1,Qxf1#', 'https://lichess.org/training/yArVw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yawrh', 'Rapid', 'Tigtre66', 1989, 'Sithumali', 1933, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Bg4,Be2,e6,O-O,Bd6,c4,Nf4,Bxf4,Bxf4,Nc3,c6,Qb3,Qc8,h3,Bh5,d5,O-O,dxe6,fxe6,Rfe1,Nd7,c5,Nxc5,Qc4,Bd6,Ng5,Rf4,Nce4,Bg6', 'Nxd6,Rxc4,Nxc8', 'https://lichess.org/training/Yawrh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yaWXs', 'Rapid', 'tagnus', 1749, 'ashifter', 1759, 'e4,b6,Nf3,Bb7,Nc3,Nc6,Bc4,Nf6,d4,e6,Bg5,h6,Bh4,Be7,e5,Nd5,Bxe7,Qxe7,Nxd5,exd5,Bxd5,O-O-O,Qd3,Nb4,Bxb7+,Kxb7,Qe4+,c6,c3,Nd5,O-O-O,g6,Nd2,f5,exf6,Qxf6,f3,Rhe8,Qc2,Ne3,Ne4,Qf4,Qd2,d5,Rde1,dxe4,Rxe3,exf3,Rxf3,Qh4,g3,Qe4,Rf7+,Ka6,Rff1,Qd5,Kb1,g5,Qd3+,b5,Qc2,Re3,Re1,Rde8,Rxe3', 'Qxh1+,Qc1,Qxc1+,Kxc1,Rxe3', 'https://lichess.org/training/yaWXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yaxKf', 'Classical', 'pr00z', 1802, 'chrisrib65', 1843, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,d4,exd4,Nxd4,Bd7,Nxc6,bxc6,Ba4,Be7,O-O,O-O,Bf4,Qc8,Re1,Rd8,e5,dxe5,Bxe5,Be6,Qf3,Bg4,Qg3,Nh5,Qe3,Bd7,Rad1,Bf6,Bb3,Bxe5,Qxe5,Nf6,Re3,Re8,Qf4,Rxe3,fxe3,h6,e4,Be6,Ba4,Qb7,b3,Rc8,e5,Nd5,Qf3,Qb6+,Kh1,Nxc3,Qxc3,Bd5,Qg3,Re8', 'Rxd5,cxd5,Bxe8', 'https://lichess.org/training/yaxKf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yAXLn', 'Rapid', 'therealnih', 1973, 'andrady', 1775, 'e4,b6,Nf3,Bb7,Nc3,e6,Bc4,Bb4,d3,a5,a3,d5,exd5,Bxc3+,bxc3,exd5,Qe2+,Ne7,Bb3,O-O,Bg5,f6,Bh4,Nf5', 'Qe6+,Kh8,Qxf5', 'https://lichess.org/training/yAXLn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yAXrl', 'Rapid', 'Siavash-ir', 1884, 'Tarek_M_Fathy', 2183, 'e4,c5,Nc3,Nc6,Bc4,e6,d3,g6,Nge2,Bg7,f3,Nge7,Bg5,f6,Bf4,d5,exd5,exd5,Bb3,O-O,Ng3,Na5,Qd2,Nxb3,axb3,Nc6,O-O,a6,Bh6,Nd4,Bxg7,Kxg7,Nce2,Nxe2+,Nxe2,Bd7,Nc3,Bc6,d4,Qb6,dxc5,Qxc5+,Kh1,Rad8,Ne2,d4,Ng3,f5,h4,Qe7,h5,Qh4+,Kg1,Qxg3,h6+,Kf7,Qd3,Bb5,c4,dxc3,Qxc3,Bxf1,Rxf1,Qd6', 'Qg7+,Ke6,Re1+', 'https://lichess.org/training/yAXrl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YAybO', 'Rapid', 'olalekan76', 1813, 'Robert122', 1713, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,d5,Bb3,f6,d4,Nc6,dxe5,fxe5,Bxd5,Nf6,Bxc6+,bxc6,Qxd8+,Kxd8,Nxe5,Be6,Nxc6+,Kc8,Nd4,Bf7,Bf4,Bc5,Nb5,Bb6,N1c3,a6,Na3,Kb7,Rfe1,Rad8,Re7,Rhf8,Bg5,Bc5,Bxf6,gxf6,Re4,Bg6,Rc4,Bb6,Ne4,f5,Nc5+,Ka7,Ne6,Rd2,Nxf8,Rxf2,Kh1,Bf7,Rh4,Bd5,Rg1', 'Bxg2+,Rxg2,Rf1+,Rg1,Rxg1#', 'https://lichess.org/training/YAybO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YaYFs', 'Rapid', 'Thefabulousone', 1655, 'ipoio7', 1688, 'd4,c6,Nc3,d5,e4,dxe4,Nxe4,Nf6,Nxf6+,exf6,Be3,Nd7,d5,c5,c4,Bd6,b3,O-O,Nf3,Re8,Qd2,Bc7,Be2', 'Ba5,O-O,Bxd2', 'https://lichess.org/training/YaYFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yAzDV', 'Rapid', 'Harish_2005', 1760, 'A-RAJA', 1970, 'e4,d6,Nf3,Nf6,Nc3,c6,Bc4,b5,Bb3,b4,e5,bxc3,exf6,cxb2,fxg7,Bxg7,Bxb2,Bxb2,Rb1,Bg7,Ng5,d5,Qf3,Be6,O-O,h6,Nxe6,fxe6,Rfe1,Qd7,Qh5+,Kd8,Qf7,Bf6,Rxe6,Na6,Rxf6,exf6,Qxf6+,Kc7,Qe5+,Qd6,Qg7+,Qd7,Qe5+,Qd6,Qg7+,Kb6,Bc4+,Nb4,Qd4+,c5', 'Rxb4+,Kc6,Bb5+,Kc7,Qg7+', 'https://lichess.org/training/yAzDV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yB1V9', 'Rapid', 'DerWuki', 1777, 'stomatologiaJulia', 1847, 'd4,d5,c4,dxc4,e3,b5,a4,c6,axb5,cxb5,Qf3,Nc6,Qxc6+,Bd7,Qb7,Rb8,Qxa7,Nf6,Nf3,e6,Ne5,Bd6,Nxd7,Nxd7,Nc3,Bb4,Bd2,O-O,Be2,Nf6,O-O,Bxc3,Bxc3,Ne4,f3,Nf6,Qc5,Nd5,Bd2,Qg5,f4,Qg6,Bf3,Qd3,Bxd5,Qxd2,Bf3,Qxe3+,Kh1,Qxf4,Ra5,b4,Rb5,Rfc8,Qxb4,Rxb5,Qxb5,Qxd4,Qb4,Qe3,Qb7,Rf8,Qc7,Qd3,Rd1,Qc2,h3,e5,Rd8,Qc1+,Kh2,Qf4+,Kg1,g6,Rxf8+,Kxf8,Bd5', 'Qd4+,Kh2,Qxd5', 'https://lichess.org/training/yB1V9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yB3p9', 'Blitz', 'Hayk0ss', 2525, 'IM HarengBienGras', 2484, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,O-O,h6,c3,d6,Nbd2,O-O,Bb3,Be6,h3,Re8,Re1,a6,Nf1,d5,Ng3,dxe4,dxe4,Qxd1,Rxd1,Bxb3,axb3,a5,Kf1,Rad8,Rxd8,Rxd8,Ke2,b6,Be3,Nd7,Nf5,Bxe3,Nxe3,Nc5,Nd5,f5,Rd1,fxe4,Ne7+,Kf7,Nxc6,Rxd1', 'Nfxe5+,Ke6,Kxd1', 'https://lichess.org/training/yB3p9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yb4Hb', 'Blitz', 'Eugenz', 1558, 'Thulasi5', 1524, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,O-O,Bg4,h3,Bh5,Be3,Bb6,Nd5,Nxd5,Bxd5,O-O,Bxc6,bxc6,g4,Bg6,Nh2,Qd7,Qe2,d5,Bxb6,cxb6,f4,dxe4,dxe4,Qd4+,Qf2,Bxe4,Qxd4,exd4,Rf2,Rad8,Re1,Rfe8', 'Rfe2,Kf8,Rxe4,Rxe4,Rxe4', 'https://lichess.org/training/yb4Hb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YB4uf', 'Rapid', 'MaxEve', 1981, 'samojed1983', 2005, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,h3,Nf6,Bd3,g6,O-O,Bg7,c3,O-O,Bg5,Qb6,Qd2,Ne4,Bxe4,dxe4,Ne1,Be6,Na3,Rfd8,b3,Qa6,Nac2,Bxb3,Qe3,Bxc2,Nxc2,f5,d5,Ne5,Bxe7,Rd7,d6,Qc4,Na3,Qc6,Rfd1,Kf7,Rac1,Nd3,Rb1,Be5', 'Rxd3,exd3,Qxe5', 'https://lichess.org/training/YB4uf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yb5wP', 'Blitz', 'Tan071', 1919, 'anandamohan123', 1906, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Be7,h3,Nf6,d3,O-O,O-O,Bd7,Be3,h6,Nbd2,Nh7,Nh2,f5,f4,fxe4,Nxe4,exf4,Bxf4,Nf6,Nxf6+,Bxf6,Ng4,Bxg4,Qxg4,Ne5,Qg3,Bh4,Qe3,Ng6,Bxh6,gxh6,Qxh6,Qg5', 'Bc4+,d5,Bxd5+,Qxd5,Qxg6+', 'https://lichess.org/training/yb5wP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yb8D1', 'Rapid', 'MMaryan', 1965, 'Mustaka', 2043, 'e4,e5,Nf3,d5,Nc3,d4,Ne2,Nc6,b3,Bg4,Bb2,Nf6,d3,Bxf3,gxf3,a5,a3,b5,Bh3,Nh5,Ng3,Nf4,Bf5,g6,Bg4,h5,Bxh5,gxh5,Qd2,h4,Nf5,Ng2+,Kf1,h3,c3,Ne7,Nxe7,Bxe7,cxd4,Bg5,Qc2,Be3,Qc6+,Kf8,fxe3,Nxe3+,Ke2,Qg5,Qxa8+,Kg7,Rhg1,Ng2,Qxa5', 'Qe3+,Kd1,Qxg1+', 'https://lichess.org/training/Yb8D1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yBcTY', 'Blitz', 'aferron', 1648, 'kesho', 1668, 'e4,g6,Nf3,Bg7,d4,c5,Nc3,Qa5,Bd2,Qb6,Rb1,cxd4,Nd5,Qd8,Bb4,e5,Bc4,d6,c3,Nc6,Qb3,a5,Ba3,a4,Qc2,Nge7,O-O,Nxd5,Bxd5,O-O,cxd4,Nxd4,Nxd4,exd4,Rfd1,Be6,Bb4,Bxd5,exd5,Qb6,Ba3,Rac8,Qe2,Rfe8,Qf3,Bf8,Rd3,f5,Rbd1,Qb5,Rxd4,Bg7,Rb4,Qc5,Rxb7,Qc2,Rf1,Bxb2,Bxd6,Bg7,Qa3,Rc6,Qb4,Rc4,Qb6,Qc1,Qa7', 'Qxf1+,Kxf1,Rc1#', 'https://lichess.org/training/yBcTY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ybdLP', 'Blitz', 'tuchkaaa', 2393, 'NM TheCableBox', 2478, 'd4,d5,Nc3,Nf6,Nf3,Bf5,Bf4,a6,e3,e6,Ne5,Bb4,g4,Be4,f3,Bg6,h4,h5,Nxg6,fxg6,g5,Ng8,Bd3,Ne7,Be5,O-O,f4,Nf5,Bxf5,Rxf5,Qd3,Nd7,O-O-O,c5,e4,dxe4,Nxe4,Nxe5,fxe5,Qd5,c3,Qxa2,cxb4,cxb4,Nc5,Rf2,Rd2,Qa1+,Kc2,Rxd2+,Kxd2,Qxh1,Qxg6,Qxh4,Nxe6,Qf2+,Kd3,Qf7,Qxf7+,Kxf7,Nf4,Rh8,g6+,Ke7,d5,h4,d6+,Kd7,Nh3,Ke6,Ke4,a5,Ng5+,Kd7,Nh3,a4,Kd5,a3,e6+,Ke8,Nf4,axb2,d7+,Ke7,Ke5,b1=Q,Nd5+,Kd8,Kd6,Qe4,e7+,Qxe7+,Nxe7,h3,Nf5,h2', 'Nxg7,b3,Ne6#', 'https://lichess.org/training/ybdLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ybdqc', 'Blitz', 'InstructionManual', 1775, 'QueenForAPawn', 1839, 'd4,d5,c4,dxc4,Nc3,a6,e3,b5,Nf3,Bg4,b3,b4,Na4,c3,e4,Nf6,e5,Nd5,h3,Bh5,g4,Bg6,Nh4,e6,Nxg6,hxg6,Qf3,Nd7,h4,c5,dxc5,Nxe5,Qe4,Nd7,Bc4,Nxc5,Nxc5,Bxc5,Bg5,Nf6,Qc6+,Qd7,Qxa8+,Ke7,Bxf6+,gxf6,Qe4', 'Qd2+,Kf1,Qxf2#', 'https://lichess.org/training/Ybdqc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YbeX7', 'Rapid', 'RitaK', 1991, 'thundown', 1957, 'e4,d5,exd5,Nf6,Bb5+,Nbd7,Nc3,a6,Bxd7+,Qxd7,d4,Nxd5,Nf3,e6,Ne5,Qd8,Qf3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/YbeX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YBFgN', 'Rapid', 'Siddhant1902', 1714, 'venky911', 1728, 'd4,d5,c4,e6,Nc3,h6,Nf3,Nf6,Bf4,Bb4,e3,c5,a3,Bxc3+,bxc3,cxd4,cxd4,Qa5+,Qd2,Qd8,Bd3,dxc4,Bxc4,Ne4,Qc2,Qa5+,Nd2,Qxd2+,Qxd2,Nxd2,Kxd2,O-O,Rhc1,Nc6,Ke2,Na5,Kf1,Nxc4,Rxc4,Bd7,Rc7,Bc6,Rc1,Rfe8,Kg1,a5,Rc3,a4,h3,Red8,Bh2,Ra6,Rc1,Rb6,Ra1,Rb3,Bg3,Rd5,Rc8+,Kh7,Ra8,Rdb5,Be5,Rb1+,Rxb1,Rxb1+,Kh2,Rb3,Bd6,Rb2,Kg3,Kg6,Ra5,f5,Rc5,Kg5,h4+,Kf6', 'Be5+,Kf7,d5', 'https://lichess.org/training/YBFgN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ybFNm', 'Rapid', 'RakingBishops', 2332, 'ThMachine', 2215, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,Qb6,Nf3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,Qb4,a3,Qxd2+,Kxd2,a6,b4,Nb6,Rhc1,Bd7,Rc2,Ke7,Ne1,h6,f4,g6,Nf3,Rhc8,Rac1,Kd8,g4,Ne7,Ng3,Rxc2+,Rxc2,Rc8,Rxc8+,Kxc8,f5,Nc4+,Bxc4,dxc4,fxg6,fxg6,Ne4,Nd5,Nc3,Nf4,Ke3,Ng2+,Kf2,Nf4,Nd2,b5,Ke3,Ng2+,Kf2,Nf4,Nde4,Bc6,Nc5,Bb7,Kg3,g5,h4,Kc7,hxg5,hxg5,Kf2,Bc8,N5e4,Nd3+,Ke3,Ne1,Nxg5,Nc2+,Kd2,Nxd4,Nge4,Nf3+,Ke3,Nxe5,g5,Ng6,Nc5,Kd6,Kd4,e5+,Ke3,Nf4,a4,Nd5+', 'Nxd5,Kxd5,g6', 'https://lichess.org/training/ybFNm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YBgFq', 'Rapid', 'Vyches', 1680, 'aelsaid', 1645, 'd4,d5,c4,dxc4,Nf3,Be6,Nc3,c6,a4,Bg4,Ne5,Nf6,Bg5,Nbd7,Nxg4,Nxg4,e3,f6,Qxg4,fxg5,Qxg5,e5,Qxd8+,Rxd8,Bxc4,Bb4,O-O,a6,Ne4,b5,Bb3,Ke7,Ng5,Rdf8,Ne6,Kd6,Nxf8,Rxf8,dxe5+,Nxe5,Rad1+,Kc5,Rc1+,Kb6,f3,c5,Rfd1,c4,Ba2,h6,Rd5,Nd3,Rxd3,cxd3,Rd1,d2,Kf2,Rc8,axb5,axb5,Bb3,Rc1,Ke2,Rc5,e4,Rg5,g4,h5,h3,hxg4,hxg4,Rg6,e5,Rh6,e6,Kc7,Rxd2,Bxd2,Kxd2,Kd6,f4,Rh2+,Kc3,b4+,Kxb4,Rxb2,f5,Rg2,Bd1,Rd2,Bf3,Rd3,Be2,Rd2,Bf3,Rd3,Be2,Rd4+,Kc3,Rf4,Kd3,Ke7,Ke3,Ra4,Kf3,Ra2,Bd1,Ra7,Kf4,Ra4+,Kg5,Ra1,Bb3,Ra3,Bc2,Kf8,Kg6,Ra7,Bb3,Re7,g5,Ra7', 'f6,gxf6,gxf6', 'https://lichess.org/training/YBgFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YBI6e', 'Blitz', 'LeoCuervo20', 1955, 'dXter', 1952, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be3,Re8,Be2,e5,dxe5,dxe5,Qxd8,Rxd8,Nd5,Nxd5,cxd5,f5,Bc4,Kh8,Ng5,Rf8,exf5,Bxf5,O-O,h6,Ne6,Bxe6,dxe6,Nc6,a3,a6,Rac1,e4,b4,Rae8,Rcd1,Ne5,Ba2,Nd3,Bd5,Nb2,Rc1,c6,Bb3,Nd3,Rcd1,Bb2,f3,Nf4,fxe4,Nxe6,Bxh6,Rxf1+,Rxf1,Bd4+,Kh1,Kh7,Bc1,Bb6,Rf7+,Kh8,Rxb7,Rf8,h4,Bc7,Kg1,Nd4,Bb2,Be5,Re7', 'Ne2+,Kh1,Rf1#', 'https://lichess.org/training/YBI6e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yBiCa', 'Rapid', 'Solomon24', 1778, 'MikhailK14', 1805, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d3,Bb4,Bd2,O-O,Be2,d6,Nd5,Bxd2+,Nxd2,Nxd5,exd5,Nd4,c4,Qg5,O-O,Bh3,Bf3,Bf5,Ne4,Bxe4,dxe4,f5,exf5,Rxf5,Be4,Rf4,f3,Raf8,Qd3,Rh4,Rf2,Qh6,h3,Qg5,Kh1,Qg3,Raf1,Rf6,b4,Rfh6,Bf5,R6h5,Bg4,Rg5,c5,h5,Be6+,Nxe6,dxe6,Kf8,cxd6,cxd6,Qxd6+,Kg8,e7', 'Rxh3+,gxh3,Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/yBiCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ybJ89', 'Rapid', 'Luisjosespagnoli', 1800, 'vvojnovski', 1802, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,Be2,Nc6,Nxc6,Bxc6,Bf3,O-O,O-O,Re8,Re1,h6,Nd5,Bxb2,Rb1,Be5,Bg4,Rb8,c4,Bd7,a4,c6,Ne3,Bc3,Re2,Rxe4,Bxd7,Qxd7,Qc2,Rxe3,fxe3,Be5,e4,b6,Rd2,f6,c5,d5,exd5,cxd5,cxb6,Rxb6,Qa2,Rxb1+,Qxb1,d4,Qb5,Qc7,Qb3+,Kh8,Rc2,Qd7,Qd3,Qb7,Rc1,Kg8,a5,a6,Rb1,Qa7,Rb6,Qc7,Rxa6,Qc1+,Qf1', 'Bxh2+,Kxh2,Qxf1', 'https://lichess.org/training/ybJ89');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yBLo8', 'Rapid', 'kozakmove', 1616, 'ABabyPawn', 1607, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,O-O,d3,h6,a4,d6,a5,a6,Bd2,Bg4,Be3,Bb4,Ra4,Bxa5,Bd5,Qd7', 'Bxc6,Qxc6,Rxa5', 'https://lichess.org/training/yBLo8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ybloe', 'Classical', 'Kalpesh_Rabari', 1657, 'steph7271', 1632, 'e3,e5,b3,d5,Bb2,e4,h3,Nf6,Bb5+,Bd7,Bf1,a6,Qe2,Be6,Nc3,Bd6,Na4,b5,Nc3,Be5,d4,Bd6,Qd2,Nbd7,Nge2,c6,g4,Qb8,g5,Nh5,h4,O-O,Bh3,Bxh3,Rxh3,f6,Ng3,Nxg3,fxg3,Bxg3+,Kd1,fxg5,hxg5,Qc8', 'Rxg3,Rf1+,Ke2', 'https://lichess.org/training/ybloe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YBlUy', 'Rapid', 'CT_OscarS', 1866, 'CemOnem', 2257, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,h3,Na5,c3,Nxb3,Qxb3,c5,d4,Be6,d5,Bd7,Qd1,O-O,Nbd2,Re8,Nf1,h6,Ne3,Bf8,Nc2,g6,Bd2,Bg7,Qc1,Kh7,Nh2,Ng8,f3,f5,Kf2,Qh4+,Kg1,Rf8,Nf1,f4,Nh2,Nf6,Rd1,Nh5,Be1,Ng3,Nf1,h5,Nxg3,fxg3,Bd2,Bxh3', 'Bg5,Bh6,Bxh4', 'https://lichess.org/training/YBlUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yBnuF', 'Rapid', 'Tarranoth', 1758, 'jansindl3r', 1801, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bf5,Be2,e6,O-O,Nbd7,Bd2,c6,Ne4,Qc7,Nxf6+,Nxf6,h3,Bd6,Nh4,Bg6,Nxg6,hxg6,Bg5,O-O-O,Bxf6,gxf6,c3,Rh6,d5,f5,Qd4,Kb8,Rfd1,g5,Qc4,exd5,Qd3,g4,Qxf5,gxh3,gxh3,Rg8+,Kf1,Bh2,Bg4,Qd6,Qxf7', 'Rf8,Qxf8+,Qxf8', 'https://lichess.org/training/yBnuF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yBpWx', 'Blitz', 'Luso1', 2362, 'CM CAMPOE', 2161, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Qxd4,e6,Bc4,Nc6,Qe4,Nb6,Bb3,d5,Qe2,Qh4,Nf3,Qh5,O-O,Be7,a4,a5,Na3,O-O,Nb5,Bd7,Be3,Nc4,Bxc4,dxc4,Qxc4,Nxe5,Nxe5,Qxe5,Bd4,Qh5,Qc7,Rfd8,Qxb7,Rab8,Qc7,Bxb5,axb5', 'Bd6,Qxd6,Rxd6', 'https://lichess.org/training/yBpWx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YbPy5', 'Classical', 'zviadpipia', 1677, 'levver', 1613, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,Nf3,Bf5,d3,e6,Bf4,Bb4,O-O,c6,a3,Bxc3,bxc3,Qxc3,Rb1,b5,Re1,bxc4,Rxb8+,Rxb8,Bxb8,O-O,Be5,Qxa3,Bxf6,gxf6,Nh4,cxd3,Nxf5,dxc2', 'Qg4+,Kh8,Qg7#', 'https://lichess.org/training/YbPy5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YbQb5', 'Blitz', 'ALEXGAD71RUS', 1993, 'oljica', 2037, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,e5,dxe5,Bb4,Bd2,Nc6,Nf3,Bg4,Be2,O-O-O,O-O,Bxf3,Bxf3,Nxe5,Be2,Nf6,a3,Be7,b4,Qb6,Na4,Qd4,Be3,Qh4,Bd3,Neg4,h3,Bd6,Nc5,Bh2+,Kh1,Be5,Rb1,Nxe3,fxe3,g5,Qf3,h5,Qf5+,Kb8,Qxe5,Ng4,Qf5,Qg3,hxg4,hxg4+,Kg1,Rh2,Qf2', 'Rh1+,Kxh1,Rh8+,Bh7,Rxh7+,Kg1,Qh2#', 'https://lichess.org/training/YbQb5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yBrn5', 'Rapid', 'Hemalatchess', 1736, 'CrazyChh', 1767, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,d6,h3,O-O,O-O,Re8,d3,h6,Be3,Bxe3,fxe3,Be6,Bxe6,Rxe6,d4,Re8,Re1,Nc6,Kh1,Ne7,dxe5,dxe5,Nxe5,Qxd1,Raxd1,Rad8,Nf3,Ng6,Rd4,c5,Rxd8,Rxd8,Kh2,Re8,Nd2,Ne5,Nd5,Nxd5,exd5,b5,b3,f5,e4,Kf7,exf5', 'Ng4+,hxg4,Rxe1', 'https://lichess.org/training/yBrn5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yBs9J', 'Rapid', 'leparrain2016', 1851, 'M-A-R-S-H-A-L-L', 1733, 'c4,e6,Nc3,Nf6,Nf3,d5,cxd5,exd5,d4,c6,g3,Be7,Bg2,O-O,O-O,Nbd7,a3,Nb6,b4,Nc4,Qd3,g6,Bh6,Re8,Ne5,Nxe5,dxe5,Ng4,Qd2,Nxh6,f4,Qb6+,Kh1,Nf5,Na4,Qb5,Nc3,Qb6,Na4,Qc7,b5,Bd7,Rac1,Rac8,bxc6,Bxc6,Nc3,Bxa3,Nxd5,Qb8,Nf6+,Kg7,Nxe8+,Rxe8,Bxc6,Bxc1,Qxc1,Rc8,e6,Rxc6,Qb2+,Kf8', 'Qh8+,Ke7,Qxb8', 'https://lichess.org/training/yBs9J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YbSDQ', 'Rapid', 'Korol66', 1824, 'HanShotFirst00', 1841, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,Bg5,Bb4,e3,h6,Bxf6,Qxf6,a3,Bxc3+,bxc3,O-O,Bd3,dxc4,Bxc4,Re8,O-O,b6,Bb5,Bb7,Qa4,e5,Nxe5,Nxe5,Bxe8,Qg6,f3,Nxf3+,Rxf3', 'Bxf3,Bxf7+,Kxf7', 'https://lichess.org/training/YbSDQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YBtFX', 'Bullet', 'AndradeRolando', 1888, 'NM jasrom', 2160, 'e4,e6,d4,d5,Nd2,Be7,c3,c5,Bd3,Nc6,Ne2,Nf6,e5,Nd7,f4,g6,O-O,h5,Nf3,Kf8,Qe1,Kg7,Ng5,Bxg5,fxg5,Ne7,Qf2,Nf5,Bxf5,gxf5,h4,Qc7,Be3,b6,Nf4,Ba6,Rfd1,cxd4,Bxd4,Nf8,Qf3,Ng6,Nxh5+,Rxh5,Qxh5,Rh8,Qf3,Rxh4,g3,Re4,Rd2,Nxe5,Kf2', 'Rxd4,cxd4,Nxf3', 'https://lichess.org/training/YBtFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yBTMC', 'Rapid', 'philidov', 1700, 'agung911', 1818, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,Nf6,Nf3,g6,O-O,d6,Bg5,Bg7,Qe2,O-O,Rfd1,e5,Rac1,Qb6,Rxd6,Nd4,Rxb6,Nxe2+,Nxe2,axb6,Nxe5,Nxe4,Nxf7,Rxf7,Bxf7+,Kxf7,Bf4,Bxb2,Rc7+,Kg8,Re7,Nf6,Bg5,Kf8,Re3,Bg4,Nf4,Rxa2,h3,Bf5,g4,Ra1+,Kh2,Be4,Bxf6,Rh1+,Kg3,Bxf6,Rxe4,Rb1,Nd5,Kf7', 'Rf4,Ke6,Nxf6', 'https://lichess.org/training/yBTMC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ybtsX', 'Blitz', 'bornstarchessman', 1902, 'Matitarrago', 1857, 'Nc3,Nf6,e4,g6,Bc4,d6,h4,Bg7,g3,Nc6,d4,a6,d5,Ne5,Be2,Nfg4,f4,h5,fxe5,Bxe5,Nf3,Bxg3+,Kf1,Nf2,Qd4,O-O,Bh6,f6,Bxf8,Qxf8,Kg2,Nxh1,Rxh1,Be5,Nxe5,fxe5,Qf2,Qg7,Rf1,Bd7,Kh2,b5,Nd1,c6,c4,cxd5,cxd5,e6,dxe6,Bxe6,b3,Rc8,Qb6,Rc2,Qxd6,Rxe2+,Kg1,Bh3,Qd8+,Kh7,Rf8,Qa7+,Nf2,Re1+,Kh2,Be6', 'Rh8+,Kg7,Qf8#', 'https://lichess.org/training/ybtsX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yBv9c', 'Blitz', 'Therealjoey', 1621, 'Bakro1964', 1634, 'c4,c5,Nc3,Nc6,g3,g6,Nf3,Nf6,Bg2,Bg7,d4,d5,cxd5,Nxd5,Nxd5,Qxd5,O-O,cxd4,Be3,Qc5,Nxd4,Nxd4,Rc1,Qb6,Rxc8+,Rxc8,Qa4+,Qb5,Qxa7,Nxe2+,Kh1,Qa6,Bc6+,Kf8,Qxb7,Qxb7,Bxb7,Rb8,Rd1,Bf6,Bc6,Rxb2', 'Bh6+,Bg7,Rd8#', 'https://lichess.org/training/yBv9c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YBVHF', 'Rapid', 'romario0333', 1857, 'MrSmileless', 1922, 'e4,c5,Bc4,e6,Nf3,Nf6,Nc3,d6,d4,cxd4,Nxd4,Nc6,O-O,Be7,f4,O-O,Nxc6,bxc6,Bb3,d5,e5,Nd7,Ne2,f6,Ng3,fxe5,f5,exf5,Bxd5+,Kh8,Bxc6,Rb8,Bxd7,Bxd7,b3,Bf6,Bb2,f4,Ne4,Qb6+,Kh1,Qc6,Nxf6,Rxf6,Bxe5,Rg6,Rf2,Bh3,Qf3', 'Bxg2+,Qxg2,Rxg2', 'https://lichess.org/training/YBVHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YBvkf', 'Blitz', 'rOviL2348', 1759, 'adel2954', 2176, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Bd7,Nc3,a6,Be2,g6,Be3,Bg7,Qd2,Nc6,O-O-O,Rc8,Nxc6,Bxc6,Bd4,Nf6,h4,h5,g4,hxg4,Bxg4,Bd7,Bf3,Bc6,Kb1,Qa5,Qe2,b5,e5,Bxf3,Qxf3,dxe5,Bxe5,b4,Nd5,Qc5,Nxf6+,exf6,Bxf6,Bxf6,Qxf6,Rh5,Rhe1+,Kf8,Rd8+,Rxd8,Qxd8+,Kg7,Qe8,Rf5,Qe3,Qxe3,fxe3,Re5,e4,f5,c3,f4,cxb4,Kh6,a3,Kh5,Rf1', 'Rxe4,Kc2,Kxh4,Kd3,Re3+', 'https://lichess.org/training/YBvkf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ybvsj', 'Classical', 'azkelimecokislem', 1757, 'arkadye', 1602, 'd4,d5,e3,Nf6,c4,c6,Nf3,Be6,Qb3,Qc7,c5,g6,Bd3,Bg7,Qc2,O-O,O-O,b6,cxb6,axb6,Nc3,Nbd7,Ng5,Bh6,Nxe6,fxe6,Ne2,Ng4,Ng3,e5,Bxg6,hxg6,Qxg6+,Bg7,Qxg4,exd4,exd4,Nf6,Qg6,Ne8,Bh6', 'Rf6,Qg4,Rxh6', 'https://lichess.org/training/ybvsj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ybXMk', 'Rapid', 'ratnikmora', 1986, 'Alvaro64', 2086, 'f4,Nf6,Nf3,g6,g3,Bg7,c3,c5,d3,b6,e4,d6,Bg2,Bb7,O-O,Nbd7,Nbd2,O-O,Nc4,b5,Ne3,Qc7,Bd2,c4,e5,dxe5,Nxe5,Nxe5,Bxb7,Qxb7,fxe5,Nd7,d4,Nb6,Qf3,Qxf3,Rxf3,Rad8,Raf1,Bh6,Bc1,Bxe3+,Bxe3,Nd5,Bd2,e6,Bh6,Rd7,Bxf8,Kxf8,Kf2,a5,Ke2,b4,Kd2,Rb7,Kc2,Kg8,Ra1,Kg7,b3,bxc3,bxc4,Rb2+,Kc1,Rxh2,cxd5,Rh1+,Kc2,Rxa1,d6,Rxa2+,Kxc3,Kf8,Kb3,Rd2,Kc3,Rg2', 'd7,Ke7,Rxf7+,Kxf7,d8=Q', 'https://lichess.org/training/ybXMk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ybXOn', 'Rapid', 'IyosIyos', 1921, 'IL_lion', 1951, 'e4,c6,d4,d6,Nc3,Nd7,Nf3,Qc7,Bf4,e5,dxe5,dxe5,Bg3,h6,h4,g6,Bc4,Bg7,Qd2,Ngf6,O-O-O,Nh5,Kb1,Nxg3,fxg3,Nb6,Bb3,a5,a4,Nd7,h5,g5,Nxg5,hxg5,Qxg5,Bh6,Qf5,Nc5,Rd8+,Qxd8', 'Qxf7#', 'https://lichess.org/training/ybXOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YbZLU', 'Rapid', 'kagor228', 1653, 'PawnSandwichBrigade', 1637, 'e4,d5,Nf3,dxe4,Ng5,Nf6,d3,exd3,Qxd3,h6', 'Qxd8+,Kxd8,Nxf7+', 'https://lichess.org/training/YbZLU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YBZMY', 'Blitz', 'Zakaria12-fekih', 1559, 'Gamerguy3000', 1562, 'e4,c6,Qh5,Nf6,Qf3,e5,Bc4,b5,Bb3,Bc5,Nc3,O-O,Nh3,h6,O-O,d6,d3,a5,a3,a4,Ba2,Be6,b4,Bxa2,Rxa2,Bd4,Ne2,Bb6,c4,Nbd7,cxb5,cxb5,Rd1,Rc8,Qg3,Kh7,Kf1,Rg8,f4,Nf8,fxe5,dxe5,d4,exd4', 'Ng5+,Kh8,Nxf7+,Kh7,Nxd8', 'https://lichess.org/training/YBZMY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YBzve', 'Rapid', 'lebed224', 1621, 'FishFromGY', 1704, 'b4,Nf6,Bb2,d5,e3,Bf5,Nf3,e6,a3,Be7,Be2,O-O,O-O,Nbd7,d4,a6,Nbd2,Ne4,Nxe4,Bxe4,Nd2,Bg6,Bh5,Bxh5,Qxh5,a5,Bc3,axb4,axb4,Nf6,Qe2,Qd7,Bb2,Ra4,c3,Rfa8,Nb3,b6,Nd2,c5,bxc5,bxc5,Nf3,Rb8,Ne5,Qe8,h3,cxd4,exd4,Rxa1,Rxa1,Qb5', 'Qxb5,Rxb5,Ra8+,Bf8,Ba3', 'https://lichess.org/training/YBzve');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yc2Zh', 'Rapid', 'Broussailles', 1783, 'ArchDeleon', 1929, 'Nf3,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qd8,d4,Nc6,e4,Bg4,e5,Nd5,Be2,Nxc3,bxc3,e6,O-O,h6,Rb1,Rb8,Bb5,Be7,h3,Bf5,Rb2,O-O,Bd3,Bxd3,Qxd3,a6,Re1,b5,Re4,Na5,Rg4,f5,exf6,Rxf6,Ne5,Bd6,Qg3,Qe7,Re2,Nc4,Qd3,Bxe5,dxe5,Rf7,Rd4,Rbf8,a4,c5,Rg4,Kh8,axb5,axb5,Qg3,Rd8,Re1,Rd5,Bxh6,Nxe5,Bg5,Qc7,Bf4,Rxf4,Rxf4,Qe7,Rh4+,Kg8,Rxe5,Rxe5,Qxe5,Qxh4,Qxe6+,Kh7,Qg4', 'Qxg4,hxg4,b4,Kf1,b3,Ke2,b2', 'https://lichess.org/training/Yc2Zh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YC3jB', 'Classical', 'Ajaxfr', 1679, 'dodink', 1621, 'e4,e5,Nc3,Nf6,f4,Nc6,Nf3,d6,Bc4,Be7,O-O,O-O,f5,a6,d3,Na5,Bb3,b5,Qe1,c5,a3,Nxb3,cxb3,Bb7,Bg5,Nd7,Bxe7,Qxe7,Qg3,h6,Nh4,b4,axb4,cxb4', 'f6,Qxf6,Rxf6', 'https://lichess.org/training/YC3jB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yc45P', 'Rapid', 'levinbosz', 2059, 'hediselmi', 2197, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Nf6,Nb3,Bxf2+', 'Kxf2,Nxe4+,Kg1', 'https://lichess.org/training/yc45P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yC4NZ', 'Classical', 'Scharlatan', 1775, 'TransCanadaHighway', 1692, 'e4,c6,d4,d5,f3,e6,Be3,Qb6,Nd2,Qxb2,Bd3,Bb4,Ne2,Nf6,e5,Nfd7,Kf2,Nb6,Rb1,Qa3,c3,Be7,Qc2,h6,Rb3,Qa4,Qb1,N8d7,Bc2,Nc4,Rb4,Qa6,Ra4,Qb6,Nxc4,dxc4,d5,Bc5,Qxb6,Bxb6,Rb1,Bxe3+,Kxe3,cxd5,f4,Nc5,Ra5,b6,Rxb6,axb6,Rxa8,O-O,Nd4,Bb7', 'Bh7+,Kxh7,Rxf8', 'https://lichess.org/training/yC4NZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YC7yr', 'Blitz', 'LazloH', 1575, 'BrokenMint', 1507, 'd4,e6,Bf4,d5,e3,Nf6,Nf3,c5,c3,Bd6,Bg3,O-O,Bd3,Nbd7,Nbd2,Qb6,Qb3,Be7,Ne5,c4,Qxb6,axb6,Bc2,b5,f4,Ne4,Nxe4,dxe4,Bxe4,b4,Ke2,bxc3,bxc3,Ra3,Kd2,Nf6,Bf3,b5,Rhb1,Ba6,Nc6,Bd8,Nb4,Ba5,h3,Bc8,Bh2,Bd7,g4,Re8,h4,e5,g5,Ng4,Bxg4,Bxg4,fxe5,Bf5,Rb2,g6,Bf4,Bg4,e4,Rd8,Rc1,Bf3,Ke3,Bg4,Nc6,Ra8,Nxa5,R8xa5,Rcc2,Bd1,Rd2,Rxc3+,Kf2,Rf3+,Kg2,Rxf4,Rxd1,Ra3,Rxb5,Rg4+,Kf2,Rag3,Rc5,Rg2+,Kf3,R4g3+,Kf4,Rh3,Rxc4,Rxh4+,Kf3,Rhh2,d5,Rxg5,d6,Rhg2,d7', 'R5g3+,Kf4,g5+,Kf5,Rf2#', 'https://lichess.org/training/YC7yr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YC8yk', 'Rapid', 'emilianozapata', 1911, 'Rozeznanie', 1840, 'e4,d6,d4,Nf6,Bd3,g6,f4,Bg7,Nf3,O-O,O-O,Nbd7,c3,b6,Ng5,Bb7,Nd2,Rc8,Ndf3,h6,Nh3,c5,d5,e6,c4,exd5,exd5,Rc7,Rb1,Bc8,Nf2,Nh5,g4,Nhf6,h3,Nh7,Qc2,Ndf6,Ne4,Nxe4,Bxe4,Nf6,Bd3,Bxg4,hxg4,Nxg4,Nh2,Bd4+,Kh1,Qh4,b3,Re7,Bb2,Nxh2,Qxh2,Qxh2+,Kxh2,Re3,Bxd4,cxd4,Rbd1,Rfe8,Kg2,Kh7,f5,g5,f6+,Kg8,Rf2,R8e5,Bf5,d3,Rxd3,Re2,Rd2', 'Rxd2,Rxd2,Rxf5', 'https://lichess.org/training/YC8yk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YCci1', 'Rapid', 'Kopikas15', 1669, 'maxyul', 1643, 'e4,c5,Nf3,Nc6,e5,Qc7,d4,cxd4,Bf4,d6,Bb5,Bd7,exd6', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/YCci1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yCDdN', 'Rapid', 'LeonProShark', 1966, 'Matti-Matto', 1958, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,a3,Nf5,b4,cxd4,cxd4,Qb6,Be3,a5,b5,Na7,Nc3,Bd7,Qa4,Rc8,Rc1,Nxe3,fxe3,Nxb5,Bxb5,Bxb5,Nxb5,Rxc1+,Kd2,Rc6,Rc1,Be7,Nd6+,Bxd6,exd6,O-O,Rxc6,bxc6,Ne5,Qb2+,Kd3,Rb8,d7,Rb3+,Qxb3,Qxb3+,Ke2,Qb6', 'Nxc6,Qb2+,Kf3', 'https://lichess.org/training/yCDdN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yCeCL', 'Rapid', 'Romeo12345', 1935, 'greantea', 1763, 'e4,e5,Nf3,Nc6,Nxe5,Nxe5,d4,Nc6,Bc4,d6,Qf3,Qf6,Qb3,Nxd4,Qd3,Ne7,O-O,Nec6,Nd2,Be6,Bd5,a6,b3,Nb5,Bxc6+,bxc6,Rb1,Be7,a4,Na7,Qxa6,O-O,Bb2,Qg6,f4,Bh3,Qe2,c5,f5,Qg4,Nf3,Nc6,f6,Bxf6,Bxf6,gxf6,Qd2,Qg6,Nh4,Qxe4,Qh6,Ne5,gxh3,Qd4+,Kh1,Qe4+,Ng2,Qg6,Qh4,Rae8,Rg1,Kh8,Nf4,Qxc2', 'Qxf6#', 'https://lichess.org/training/yCeCL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ycEWR', 'Blitz', 'babolbil227', 2144, 'JhoynnerJimenez', 2159, 'e4,c5,Nf3,d6,c3,Nf6,Bd3,g6,Bc2,Bg7,d4,cxd4,cxd4,Nc6,Nc3,Bg4,a3,Bxf3,gxf3,O-O,h4,e5,d5,Nd4,Be3,Nxc2+,Qxc2,Nh5,O-O-O,Rc8,Kb1,b5,Qb3,a6,Rc1,Qd7,Rcg1,Rc4,Rg5,Kh8,Rhg1,Bh6,Rxh5,Bxe3,Rxh7+,Kxh7,fxe3,Qh3,Qd1,b4,axb4,Rxb4,Qe2,Rfb8,Nd1,a5,h5,Qxh5,Qg2,Kg7,Rh1,Qxh1,Qxh1,a4,f4,a3,f5,axb2,fxg6,fxg6,Qh4,R8b7,Qd8,Ra7,Nxb2,Rab7,Qxd6,Rxb2+,Kc1,Rb1+,Kd2,R7b2+,Kc3,Rb3+,Kc4,Rxe3,Qxe5+,Kh7,Kc5,Rc1+,Kd6,Rce1,Qe7+,Kh6,e5,g5,e6,g4,Qf6+,Kh5,Kd7,g3,Qh8+,Kg4,Qg7+,Kh3,e7', 'Rxe7+,Qxe7,Rxe7+,Kxe7,g2,d6,g1=Q', 'https://lichess.org/training/ycEWR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ycf8U', 'Rapid', 'Boiachetesecarca', 1712, 'Madnecity', 1699, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,Bg4,O-O,Nc6,h3,Bh5,d3,h6,Be3,a6,Nd5,Ne5,Nf4,Nxf3+,gxf3,Qd7,Kh2,e6,Nxh5,Nxh5,Rg1,g5,f4,Nxf4,Bxf4,gxf4,Qh5,O-O-O,e5,dxe5,Qxe5,Bd6,Qe4,Rdg8,Bxa6,bxa6,Qa8+,Kc7', 'Rxg8,Rxg8,Qxg8', 'https://lichess.org/training/Ycf8U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YcGmC', 'Rapid', 'VijayKumarRajput', 2055, 'Dev29', 2050, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Qf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Be7,Bg5,O-O,Nc3,c6,Ne2,Ne4,Bxe7,Qxe7,Ng3,Nd2,Qg4,Nxf1,Rxf1,Qe6,Nf5,g6,Nh6+,Kg7,Qh4,f5,g4,fxg4,Nxg4,h5,Ne3,Qe4,Qg3,d4,Ng2,Rf3,Qc7+,Rf7,Qg3,Qxc2,Qe5+,Kh7,Qxd4,Raf8,a3,Qf5,h4,Qg4,Qc5,Qf3,b4,Rd8,a4,Re8,b5,cxb5,axb5,Re4,Qd5,Re1,Qxf3', 'Rxf1+,Kxf1,Rxf3', 'https://lichess.org/training/YcGmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YcHAK', 'Rapid', 'MBARIKIWA', 1855, 'crazyslayer', 1828, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Nxd4,Nxd4,Qxd4,Nf6,O-O,Be7,e5,dxe5,Qxe5,O-O,Bg5,Bd6,Qc3,Bxh2+,Kh1,Bd6,Nd2,Be7,Rae1,Bf5,Rd1,Nd7,Bxe7,Qxe7,g3,Qf6,Qxf6,Nxf6,Bb3,Rad8,Kg1,Rfe8,Nc4,Rxd1,Rxd1,Bg4,Rd2,Bf3,Ne3,g6,Rd4,h5', 'Rf4,Kg7,Rxf3', 'https://lichess.org/training/YcHAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yCHD2', 'Blitz', 'leonbetim', 1613, 'Eriotciv', 1636, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,Nf6,d3,Bc5,O-O,O-O,Re1,Na5,Bb5,c6,Ba4,b5,Bc2,Bb6,d4,exd4,cxd4,Re8,Qd3,d5,e5,Ne4,Nfd2,Bf5,Nc3,Qh4,Ndxe4,dxe4,Nxe4,Rxe5,dxe5,Bxe4,Rxe4', 'Qxf2+,Kh1,Qg1#', 'https://lichess.org/training/yCHD2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ycihz', 'Rapid', 'direstraits', 1728, 'nutsandbold', 1794, 'e4,Nf6,e5,Nd5,d4,d6,Nf3,Bg4,Nbd2,c5,c3,Nc6,Bb5,cxd4,cxd4,Bxf3,Qxf3,dxe5,dxe5,e6,O-O,Be7,Nc4,O-O,Bxc6,bxc6,Rd1,Rb8,Ne3,Qc7,Nxd5,cxd5,Be3,Rxb2,Rdc1,Qb7,g3,Rc8,Rxc8+,Qxc8,h4,Qa6,a4,Rb4,a5,Rb5,Bd2,Bb4,Bxb4,Rxb4,h5,h6,Qc3,Qc4,Qxc4,Rxc4,Kf1,Kf8,Ke2,Ke7,Kd3,Kd7,Rb1,Kc7,a6,Kd7,Rb7+,Rc7,f4,Rxb7,axb7,Kc7,Kd4,Kxb7,f5,Kb6,g4,a5,g5,hxg5', 'f6,gxf6,h6', 'https://lichess.org/training/Ycihz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yciOI', 'Rapid', 'zakour', 1645, 'niko_signum', 1823, 'e4,e5,Nf3,Qf6,Bc4,d6,Nc3,c6,O-O,Be7,d3,Qg6,g3,Qh5,Ne1,Qg6,f4,Nd7,fxe5,Nxe5,Bf4,f6,Bxe5,dxe5,Nf3,Bg4,Qd2,h5,Nxe5,Qg5,Qxg5,fxg5,Nf7,Rh7,Nxg5,Bxg5,Bxg8,Rh8,Bf7+,Ke7,Bg6,h4,Rf7+,Kd6,Rxg7,hxg3,hxg3,Bf3,e5+,Kxe5,Re1+,Kd6,Ne4+,Bxe4,Rxe4,Bf6,Rf7,Bxb2,Rfe7,Rag8,R7e6+,Kd5,c4+,Kc5,Rg4,Rd8,Rg5+,Kb4,Re7,Rxd3,Bxd3,Kc3,Bf1,Kc2,Rxb7,Kb1,Rxa7,Bd4+,Kg2,Bxa7,Rg6,Rc8,a4,Kb2,Bd3,Kb3,Bf5,Rc7,Be4,Kxc4,Bxc6,Kc5,Bb5,Kb4,g4,Kc5,g5,Kd5,Rg8,Bd4,g6,Ke5,Re8+,Kf5,Rg8,Rc2+,Kf3,Rc3+,Ke2,Re3+,Kf2', 'Re8+,Kf3,Rxg8', 'https://lichess.org/training/yciOI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ycja1', 'Rapid', 'Bogus_Ponytail', 1858, 'zppssonapur', 1809, 'e4,e6,Nf3,d5,e5,c5,d4,cxd4,Nxd4,Bc5,Nc3,Ne7,Bd3,Nbc6,Nf3,Qc7,O-O,Nxe5,Bb5+,Bd7,Nxe5,Bxb5,Nxb5,Qxe5,Re1,Qb8,Qf3,O-O,Bf4,Qc8,Nc7,Rb8,Nxd5,Nxd5,Bxb8,Qxb8,a3,Qc7,b4,Bd4,Rac1,Bf6,c4,Qf4', 'cxd5,Qxf3,gxf3', 'https://lichess.org/training/ycja1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YcjF1', 'Blitz', 'husseinhij', 1571, 'indira930', 1582, 'e4,d6,Nf3,g6,d4,Bg7,c4,Nf6,Bd3,O-O,O-O,Nbd7,h3,c5,d5,b6,Be3,Ba6,b3,Nxe4,Bxe4,Bxa1,Na3,Bg7,Qd2,Nf6,Bb1,Rb8,Bh6,Re8,Bxg7,Kxg7,Nc2,Bb7,Ne3,a6,g4,e5,g5,Nh5,Ng4,Bc8,Nh6,Bxh3,Re1,Qd7,Nh2,Rb7,Qe2,Nf4,Qf3,Bg2,Qg3,Bh3,Nf3,Nh5,Qh2,Bg4,Nd2,Rc7,Ne4,Bf5,Nf6,Nxf6,gxf6+,Kxf6,Qh4+,Kg7,Nxf5+,gxf5,Qg5+,Kh8,Qf6+,Kg8,Kh2,Qe7', 'Rg1+,Kf8,Qh6#', 'https://lichess.org/training/YcjF1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yckDp', 'Classical', 'Gamdc111', 1824, 'PedroAbdala216', 1906, 'c4,Nf6,Nf3,e6,d4,b6,Bg5,h6,Bxf6,Qxf6,e3,Bb7,Be2,c5,Nc3,cxd4,exd4,Bb4,Qd3,Nc6,O-O,O-O,d5,Bxc3,bxc3,Ne5,Nxe5,Qxe5,Bf3,exd5,cxd5,Rac8,c4,Rc5,Rfe1,Qf4,Re4,Qf6,Rae1,Ba6,Bg4,d6,Be2,Rfc8,Qc2,Qd8,Bd3,Qd7,Re7,Qg4,Re8+,Rxe8', 'Rxe8#', 'https://lichess.org/training/yckDp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YckYt', 'Blitz', 'chelovekzec', 1791, 'tarhana', 1756, 'c4,d6,e4,Bd7,d3,g6,Nf3,Bg7,Ng5,e6,Nc3,Ne7,Qf3,O-O,h4,Nbc6,d4,Nxd4,Qg4,Nc2+,Kd1,Nxa1,Nd5,exd5,Qf3,dxe4,Qxe4,Bf5,Qf4,Nc2,Nxh7,Kxh7,h5,Bh6,hxg6+,fxg6', 'Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/YckYt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ycL1l', 'Rapid', 'Foxtea', 1749, 'MamounAlzayed', 1703, 'e4,e5,Nf3,Nc6,Bc4,h6,Bd5,Bc5,Bxc6,dxc6,Nxe5,Qf6,Nf3,Bg4,d3,Bxf3,Qxf3,Qxf3,gxf3,O-O-O,Bf4,Nf6,Nd2,g5,Bg3,Nh5,Nb3,Bb6,h4,Nxg3,fxg3,gxh4,Rxh4,Be3,f4,a6,f5,Bg5,Rh1,Bf6,Ke2,Bxb2,Rab1,Be5,g4,Rdg8,Kf3,b6,Nd2,b5,Nb3,Kb7,Nc5+,Ka7,a4,Bd4,Nb3,Be5,axb5,cxb5,Ra1,c6,Ra2,Kb6,d4,Bf6,c3,Bg5,Nc5,Ra8,Nd7+,Kc7,Nc5,a5,Rha1,a4,c4,h5,gxh5,Rxh5,Kg4,Rah8,cxb5,cxb5,Rc2,Kb6,Nxa4+,bxa4,Rxa4,Be7,Rb2+,Kc6,Ra6+,Kd7', 'Rb7+,Kc8,Rxe7', 'https://lichess.org/training/ycL1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YCMFO', 'Blitz', 'Texmurphy', 1718, 'DRAGON1964', 1752, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d6,d4,Bg4,Nbd2,h6,Nf1,Nh7,dxe5,Nxe5,N1d2,Ng5,h3,Ngxf3+,Nxf3,Nxf3+,gxf3,Bxh3,Kh2,Qd7,Rg1,Kh8,f4,Be6,Bc2,Rg8,f5,Bc4,Qh5,Bf8,Be3,f6,Rg3,Bf7,Qh4,d5,Rag1,Qd6,Bf4,Qd7,Bxh6,gxh6,Qxf6+,Kh7,Rxg8,Bxg8', 'Qg6+,Kh8,Qxg8#', 'https://lichess.org/training/YCMFO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yCmhW', 'Rapid', 'bulut10', 1965, 'erkanCDU', 1955, 'e4,d5,e5,Bf5,d4,e6,Bd3,Ne7,Nf3,h5,Bg5,c5,Bxf5,exf5,Nc3,Nbc6,dxc5,d4,Nb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/yCmhW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ycMov', 'Rapid', 'martinvincent', 1627, 'DiwasRegmi', 1626, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Nxe5,Nc6,Nxc6,dxc6,Bc4,Ng4,d4,Bxd4,Bxf7+,Kxf7,Qf3+,Ke8,Be3,Rf8,Qg3,Bxe3,fxe3,Qf6,O-O-O,b6,Rhf1,Qe7,h3,Ne5,Rxf8+,Kxf8,Rf1+,Kg8,Ne2,Ba6,Rf5,Qe6,Qxe5', 'Qxe5,Rxe5,Bxe2', 'https://lichess.org/training/ycMov');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ycn2V', 'Blitz', 'tworzyjanek', 2422, 'FM josemoramoron', 2346, 'Nf3,Nf6,b3,g6,Bb2,Bg7,g3,d6,Bg2,O-O,O-O,Nbd7,c4,a5,a3,e5,d3,Nc5,Nbd2,Bg4,h3,Bxf3,Bxf3,c6,Qc2,Qd7,Bg2,Ne6,e3,d5,b4,axb4,axb4,d4,e4,b5,Ra5,Bh6,Nb3,Rxa5,bxa5,Ra8,Ra1,Ng5,Kh2,Bg7,Bc1,Ne6,Bd2,Bf8,cxb5,cxb5,Rc1,Ba3,Rb1,Bf8,Bf1,h5,Be2,h4,Rc1,Ba3,Ra1,Bf8,Bd1,Kh7,a6,Bh6,Bxh6,Kxh6,Qd2+,Ng5,gxh4', 'Qxh3+,Kg1,Qxh4', 'https://lichess.org/training/Ycn2V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ycNDf', 'Rapid', 'BatikanGiresun', 1833, 'Leew', 1854, 'e3,d5,d4,e6,Nf3,c5,Bb5+,Nc6,dxc5,Bxc5,Nc3,Qc7,O-O,Nf6,Ne5,O-O,Nxc6,bxc6,Bd3,Bd6,h3,a6,e4,d4,Ne2,c5,Ng3,Bb7,Re1,c4,Bf1,e5,Nf5,Nxe4,Nxd6,Qxd6,Bxc4,Bd5,Bxd5,Qxd5,Qf3,Nf6,Qxd5,Nxd5,Rxe5,Rad8,Bd2,Rfe8,Rae1,Kf8,Rxd5', 'Rxe1+,Bxe1,Rxd5', 'https://lichess.org/training/ycNDf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yCnHT', 'Rapid', 'sans-c', 1735, 'bjoernw', 1862, 'd4,d5,c4,Nf6,e3,e6,Nc3,Bb4,Bd2,Nc6,Qc2,Bxc3,bxc3,O-O,Nf3,Re8,cxd5,Nxd5,Bb5,Bd7,Bxc6,Bxc6,O-O,Nf6,Ne5,Be4,Qb2,Qd5,c4,Qd6,Bb4,Qb6,f3,Bc6,Rab1,Qa6,Nxc6,Qxc6,Rfc1,a5,Be1,b6,c5,Rab8,cxb6,Qxb6,Qc2,Qa7,Rxb8,Rxb8,Qxc7,Qxc7,Rxc7,Nd5,Ra7,h6,e4,Rb1,Kf2,Nf4,Bd2,Rb2,Kg3', 'Ne2+,Kf2,Rxd2', 'https://lichess.org/training/yCnHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YcNWX', 'Rapid', 'Kumanda01', 1839, 'SansAvoirVecu', 1866, 'e4,Nc6,f4,e5,d3,d5,fxe5,dxe4,dxe4,Qxd1+,Kxd1,Nxe5,Nf3,Bg4,Be2,O-O-O+,Ke1,Bxf3,gxf3,Bc5,Bf4,Ng6,Bg3,Nf6,Nc3,Be3,Rd1,Rxd1+,Nxd1,Bd4,c3,Be5,Ne3,Bxg3+,hxg3,Ne7,Kf2,c6,Nc4,Rd8,Ke3,Kc7,Ne5,Re8,Nxf7,b5,Ng5,Kb6,Kf2,Rd8,Ke3,Re8,Kd2,Rd8+,Kc2,h6,Ne6,Re8,Nxg7,Rg8,Rxh6,Rxg7,Rxf6,Rxg3,Kd3,Ng6,Ke3,Rg2,e5,Nxe5,b3,a5,Re6,Nd7,Re7,Nc5,f4,a4,b4,Na6,Kf3,Rh2,f5,Rh3+,Ke4,Nc7,f6,Nd5,f7,Rh8,Re8', 'Nf6+,Kd3,Nxe8,fxe8=R,Rxe8', 'https://lichess.org/training/YcNWX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YCoPU', 'Rapid', 'kuymak', 1630, 'Mabekre', 1650, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,a6,Re1,b5,Bb3,O-O,Bg5,Bb7,Nc3,h6,Bh4,Nd4,Nxd4,Bxd4,Nd5,Bxd5,Bxd5,c6,Bb3,a5,c3,Bb6,a4,b4,c4,Bd4,Qc2,Qb6,Kh1,Kh7,Bxf6,gxf6,f3,Rg8,Qd2,Rg7,f4,Rag8,Re2,Qc5,f5,Rg5,Rf1,Qf8,Rf3,Qg7,Rh3,d6,Bd1,c5,Rf3,Rh8,g3,Kg8,Rg2,Kf8,h4,Rg4,Qe2,Rg8,Kh2,Ke7,Qf1,Kd7,Qe2,Kc6,Qc2,Kb6,Kh3,Kc6,Qe2,Kb6,Qe1', 'Rxh4+,gxh4,Qxg2#', 'https://lichess.org/training/YCoPU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YcpFP', 'Blitz', 'kev922', 1543, 'PETACHO', 1539, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be3,h6,Bd3,O-O,Qd2,Ng4,Bf4,Ne5,Bxh6,Nxd3+,cxd3,gxh6,Qxh6,Bg5,Qh5,Qf6,e5,Qxe5+,Nce2,c5,Nf3,Qxb2,Nxg5,Qxa1+,Kd2,Qg7,Nf4,Nc6,Nd5,Be6', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/YcpFP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yCPhI', 'Blitz', 'AnuarShavaev', 2154, 'maxmeister', 2044, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nd7,Bd3,Bxd3,Qxd3,Ngf6,Bd2,e6,O-O-O,b5,Kb1,a5,c4,b4,Rde1,Be7,Ne4,Qb6,Bf4,Nxe4,Qxe4,b3,axb3,a4,b4,Bxb4,Re3,a3,b3,a2+,Ka1,Qa5,Qc2,Nf6,Ne5,Rc8,g4,Bd2,Rf3,Bb4,g5,Ne4,Rhh3,hxg5,Bc1,Nd2,Bxd2,Bxd2,Nxf7,g4,Nxh8,gxh3,Qg6+,Kd7,Rf7+,Kd8,Rf8+,Kc7,Qf7+,Kb6,c5+,Kb5', 'Qb7+,Qb6,Qxb6#', 'https://lichess.org/training/yCPhI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ycPjq', 'Blitz', 'GM leniart', 2502, 'rumiek', 2432, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb5,a6,N5c3,Be6,g3,Nf6,Bg2,Be7,O-O,O-O,Nd5,Nbd7,Nbc3,b5,Nxe7+,Qxe7,Bg5,h6,Bxf6,Nxf6,f4,Qa7+,Kh1,b4,Nd5,Bxd5,exd5,Rfe8,fxe5,Rxe5,Rxf6,gxf6,Qg4+,Rg5,Qf4,Qe7,Rf1,Rc8,h4,Re5', 'Qg4+,Kh7,Qxc8', 'https://lichess.org/training/ycPjq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yCq4a', 'Classical', 'Haltiinni', 1856, 'daryaazad91', 1881, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,O-O,Bd3,h6,Bh4,Nc6,Nge2,Be6,a3,a6,Bc2,Qd7,Qd3,g6,Nf4,Bf5,Qe2,Bxc2,Qxc2,g5,Bg3,gxf4,Bxf4,h5,h3,Kg7,g4,hxg4,hxg4,Rh8,O-O-O,Rxh1,Rxh1,Rh8,Rg1,Na5,Be5,Nc4', 'g5,Nxe5,gxf6+,Kxf6,dxe5+', 'https://lichess.org/training/yCq4a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ycQlw', 'Blitz', 'parvadomus', 2156, 'CM cmvicentuco', 2168, 'd4,e6,e3,b6,f4,Bb7,Nf3,f5,c4,Nf6,Bd2,Be7,Nc3,O-O,Bd3,Ne4,O-O,Bf6,Qe1,d6,Rc1,Nd7,b4,Qe7,a4,a5,b5,c5,d5,e5,fxe5,Nxe5,Nxe4,Nxf3+,gxf3,fxe4,Bxe4,Rae8,Qg3,Bc8,Kh1,Be5,Qg2,Qh4,Rg1,Bh3,Qg5,Qf2,Be1', 'Qxh2#', 'https://lichess.org/training/ycQlw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YCrL8', 'Rapid', 'ginemur', 2015, 'Cepgg', 2166, 'c4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Be7,e4,O-O,Be3,Re8,Qc2,Bb4,f3,Nh5,O-O-O,Bxc3,Qxc3,Qf6,Nd4,d6,Be2,a5,a3,Nf4,Bxf4,Qxf4+,Kb1,Nxd4,Qxd4,Be6,g3,Qe5,Qxe5,dxe5,f4,f6,f5,Bf7,Rd7,Rac8,Rhd1,Kf8,b4,axb4,axb4,Re7,c5,Rxd7,Rxd7,Ke8,Rd2,c6,b5,Rd8,Rxd8+,Kxd8,b6,g6,g4,h5,gxh5,gxh5,h4,Ke8,Kc2,Kd7,Kc3,Ke7,Kb4,Kd7,Ka5,Ke7', 'Ba6,Kd7,Bxb7', 'https://lichess.org/training/YCrL8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YcS5y', 'Rapid', 'aco1', 1844, 'Victor_Malyasov', 1836, 'e4,e5,d4,d6,Bc4,a6,Nf3,Bg4,O-O,Bxf3,Qxf3,Qf6,Qb3,b5,dxe5,dxe5,Bd5,c6,Bg5,Qg6,Qh3,Ne7', 'Bxe7,Bxe7,Qc8+', 'https://lichess.org/training/YcS5y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yCSiS', 'Bullet', 'jtmouse', 1753, 'mertaw', 1752, 'd4,d6,e4,c6,Nc3,Qc7,Be3,e5,Qd2,Nf6,f3,h6,O-O-O,g6,g4,Bxg4,fxg4,Nxg4,Nf3,Nxe3,Qxe3,Qe7,dxe5,dxe5,Kb1,Nd7,h4,Nf6,Bc4,Bg7,h5,Nxh5,Nh4,Nf4,Nf5,gxf5,exf5,Rd8,Rxd8+,Qxd8,Bxf7+,Kxf7,Ne4,Qe7,Qb3+,Kf8,f6,Bxf6,Nxf6,Qxf6,Qxb7,Qe7,Qc8+,Kg7,Qxc6,Ne6,Qg2+,Kh7,Qe4+,Kg7,Rg1+,Kf8,Qxe5,Rg8,Rf1+,Ke8,Qb8+,Nd8', 'Qb5+,Qd7,Re1+,Ne6,Rxe6+', 'https://lichess.org/training/yCSiS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ycUgr', 'Rapid', 'shahmabox81', 1861, 'Mammouth', 1842, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,d3,e6,Bg5,Be7,Nc3,Nbd7,Nf3,a6,Qe2,O-O,Kd1,b5,Re1,Re8,Nd4,Bb7,Qf3,Rc8,a4,b4,Nce2,a5,Nb5,Nc5,Qg3,Nxb3,cxb3,Ba6,Bxf6,Bxf6,Nd6,Qc7,Nxe8', 'Qc2#', 'https://lichess.org/training/ycUgr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yCuNx', 'Rapid', 'CleverTacticsButFall', 2001, 'MaratIkramov', 2013, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,Bg5,Bg4,e3,O-O,h3,Bxf3,Qxf3,c6,Bd3,Qa5,Bxf6,Bxf6,O-O,Nd7,a3,e5,b4,Qc7,Ne4,Bg7,d5,f5,Ng5,e4,Bxe4,fxe4,Qxe4,Rae8,Ne6,Qc8,Qh4,Bf6,Qh6,Rf7,Rad1,Nf8,Nxf8,Rexf8,dxc6,Qxc6,Rd3,Qe4,Rfd1,Be5,f3,Qxc4,f4,Bg7,Qg5,Bf6,Qa5,a6,Rxd6,Qc2,Qd5,Bh4,Rd2,Qc1+,Kh2,Qe1,Qf3,g5,f5,Rxf5,Qg4,h5,Rg6+,Kh7', 'Qxh5#', 'https://lichess.org/training/yCuNx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ycxnz', 'Classical', 'steveb120', 1878, 'vasicakobasica', 1926, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nf6,e5,Nd5,Nc3,Nc6,Bb5,Qd7,Qb3,e6,Nge2,Bb4,O-O,Bxc3,Nxc3,a6,Be2,Nxd4,Qd1,Nxc3,bxc3,Nxe2+,Qxe2,b6,Qf3,Qd5,Qxd5,exd5,Bb2,Bb7,Rfe1,O-O-O,Rac1,Rhe8,a4,Re6,Rcd1,Bc6,Ra1,Rde8,f4,h6,h4,Rg6,Kh2,d4,Re2,f6,cxd4,fxe5,dxe5,Rg4,g3,g5,Rc1,Bxa4,Kh3,h5,hxg5,Bd7,Rec2,c5,Kh2,h4,Rg1,Rh8,Kg2,Bc6+,Kh3,Bd7', 'e6,Bxe6,Bxh8', 'https://lichess.org/training/ycxnz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ycXy0', 'Classical', 'migriauliz', 1744, 'hercule-poivrot', 1772, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Be7,Bf4,Nxd4,Qxd4,d6,Qxg7', 'Bf6,Qg3,Bxb2', 'https://lichess.org/training/ycXy0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YcyxB', 'Classical', 'KwAnZoUgH007', 1753, 'janjestem', 1776, 'e4,e6,d4,d5,e5,c5,c3,Nc6,b3,cxd4,cxd4,Qa5+,Bd2,Bb4,Bxb4,Qxb4+,Qd2,Qxd2+,Nxd2,Nxd4,Bd3,Bd7,a4,f6,exf6,Nxf6,Ngf3,Nxf3+,Nxf3,O-O,O-O,e5,Nxe5,Rfe8,Rfe1,Rac8,g4,Bxg4', 'Nxg4,Rxe1+,Rxe1,Nxg4,Bf5', 'https://lichess.org/training/YcyxB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YcZ4K', 'Rapid', 'lilsa', 1679, 'Mahamedtaha22', 1667, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,b6,Bg5,Bb7,e4,Nbd7,e5,Be7,exf6,Bxf6,Bxf6,Nxf6,Ne5,Qe7,a3,O-O-O,b4,dxc4,Nxc4,e5,d5,Nxd5,Nxd5,Bxd5,Qg4+,Be6,Qxg7,Bxc4,Bxc4,Qd6,O-O,f5,h3,Qc6,Be6+,Qxe6,Rad1,Qc6,Rxd8+,Rxd8,Qxh7,Qd5,Qxf5+,Kb8,h4,Rh8,h5,a6,Qg6', 'Rg8,Re1,Rxg6', 'https://lichess.org/training/YcZ4K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yd0Kk', 'Rapid', 'inthespiritof_talll', 1675, 'TimaPolyakov2019', 1638, 'd4,c6,c4,d5,Nc3,Nf6,Nf3,Bg4,Qb3,e6,Qxb7,Nbd7,Qxc6,Rc8,Qa4,Rxc4,Qxa7,Rc7,Qa5,Bd6,Nb5', 'Rxc1+,Rxc1,Qxa5+', 'https://lichess.org/training/Yd0Kk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yd2ia', 'Rapid', 'harunsagdic95', 1969, 'aliquis', 2051, 'Nf3,Nf6,g3,e6,Bg2,c5,c4,a6,O-O,Qc7,d3,Nc6,Nc3,b6,Re1,Bb7,Bf4,d6,e4,e5,Bg5,Be7,Nd5,Nxd5,cxd5,Nd4,Be3,O-O,Rc1,Qd7,Nd2,b5,Nb3,f5,Nxd4,cxd4,Bd2,f4,gxf4,exf4,Qf3,g5,Bh3,Qe8,Kh1,h5,Rg1,Kh7,Bf5+,Kh6,Bxf4,Rxf5,exf5,Qf7,Rxg5,Bxg5,Bxg5+,Kxg5,Rg1+,Kh6', 'Rg6+,Qxg6,fxg6', 'https://lichess.org/training/Yd2ia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yd4GA', 'Blitz', 'NM Chess-Network', 2529, 'NM IQc2Ng5', 2201, 'c4,c5,Nc3,Nc6,Nf3,Nf6,d4,cxd4,Nxd4,e6,a3,a6,e4,Qc7,Be2,Ne5,O-O,Ng6,Kh1,Bc5,b4,Be7,Be3,b6,Rc1,Bb7,f3,h5,c5,bxc5,bxc5,h4,c6,dxc6,Na4,c5,Nb3,Rd8,Qc2,Nh5,Nbxc5,Ngf4,Nxb7,Qxb7,Rfe1,h3,g3,Ng2,Bb6,Nxe1,Rxe1,Rc8,Qd3,O-O,Qxa6,Qc6,Qb5,Qc2,Qxh5,Qxe2', 'Rxe2,Rc1+,Bg1', 'https://lichess.org/training/Yd4GA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YD9th', 'Blitz', 'DZXT', 1657, 'wamsray', 1506, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,Ne5,Bd7,Nxd7,Qxd7,O-O,a6,Ba4,b5,Bb3,Nf6,d3,e6,Bg5,Be7,Nd2,O-O,Nf3,h6,Bh4,Rfe8,c3,Rac8,Bc2,b4,d4,a5,Qd3,Ne4,Bxe7,Nxe7,Ne5,Qc7,f3,Nd6,Qh7+,Kf8,Qh8+,Ng8,Bh7,Ke7,Qxg7,bxc3,bxc3,Qxc3,Rfc1', 'Qe3+,Kf1,Rxc1+,Rxc1,Qxc1+', 'https://lichess.org/training/YD9th');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yd9xQ', 'Blitz', 'Zafarra', 2077, 'WayTooSlow', 1965, 'd3,d5,e4,dxe4,Nc3,exd3,Bxd3,Nf6,Nf3,Nc6,Bg5,e5,Qe2,Be7,O-O-O,O-O,Bxf6,Bxf6,Bxh7+,Kxh7,Rxd8,Rxd8,Ne4,Bg4,Neg5+,Kg8,Qe4,g6,h3,Bxf3,Nxf3,Nd4,Nxe5,Re8,f4,Nc6,g4,Nxe5,fxe5,Rxe5,Qxb7,Rae8,Qxc7', 'Bg5+,Kb1,Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/Yd9xQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YdAgc', 'Rapid', 'ghoul00', 1725, 'Rei_Ayanami1', 1633, 'e4,c5,Nc3,Nc6,Bb5,d6,Bxc6+,bxc6,f4,e6,Nf3,d5,e5,Be7,O-O,Nh6,d3,Nf5,Bd2,O-O,Qe1,c4,dxc4,Qb6+,Qf2', 'Bc5,Na4,Bxf2+', 'https://lichess.org/training/YdAgc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YdAwl', 'Rapid', 'Demarshal', 1972, 'BotaBlanca', 1882, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Ndb5,d6,Bg5,a6,Bxf6,gxf6,Nd4,Nxd4,Qxd4,Be7,Bd3,Bd7,Qe3,Bc6,O-O,Rg8,Rad1,Qc7,f3,O-O-O,Qa7,d5,Kh1,dxe4,Nxe4,Rg7,Nc5,Bxc5,Qxc5,Rdg8,Rg1,Rxg2', 'Rxg2,Bxf3,Qxc7+', 'https://lichess.org/training/YdAwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YDBL1', 'Blitz', 'GM Sailor1951', 2664, 'FM kemelgallo', 2463, 'Nf3,d5,d4,Nf6,c4,e6,g3,Be7,Bg2,O-O,Qc2,Nbd7,O-O,dxc4,Qxc4,b6,Bf4,c5,Ne5,Nxe5,dxe5,Nd5,Rd1,Nxf4,Rxd8,Rxd8,gxf4,Rd1+,Bf1,Bb7,Qc3,Rad8,f3,c4,b4,cxb3,axb3,Bc5+,Kg2,Bd4,Qc7,Bxa1,Qxb7,Rxb1,Qxa7,h6,h4,Rdd1,Qa8+,Kh7,Qe4+,g6,h5,Rxf1,hxg6+,Kg7,gxf7,Rg1+,Kf2,Rgf1+,Kg2,Rg1+,Kh2,Rh1+,Kg2,Rbg1+,Kf2,Rf1+,Kg2,Rd1,Qa8,Kxf7,Qb7+,Kg6,Qe4+,Kh5,f5,Rhg1+,Kh2,Rh1+,Kg2,Rdg1+,Kf2,Rf1+,Kg2,Rhg1+,Kh2,exf5,Qxf5+,Rg5', 'Qh3+,Kg6,Qxf1', 'https://lichess.org/training/YDBL1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ydcaa', 'Rapid', 'SteveMax', 1665, 'IvanGrishov', 1656, 'e4,e5,Nc3,Nc6,Bc4,d6,Nf3,Nf6,h3,Be7,O-O,O-O,a4,Nd4,Nxd4,exd4,Nd5,Nxd5,Bxd5,c6,Bb3,d5,d3,dxe4,dxe4,c5,Bf4,b6,Bd5,Bxh3,Qh5,Rc8,Qxh3,g6,Bh6,Re8,Qf3,Bf6,e5,Rxe5,Be4,Qe7,Rfe1,Re8,g3,Rxe4', 'Rxe4,Qxe4,Qxf6', 'https://lichess.org/training/Ydcaa');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 39;
-    }
-
-}
\ No newline at end of file
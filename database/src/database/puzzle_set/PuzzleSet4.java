@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet4 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4jQnX', 'Rapid', 'SuhasChintala', 1886, 'Risha8h', 1869, 'd4,d5,c4,c6,Nf3,Nf6,Bf4,h6,e3,g5,Bg3,Bg7,Nc3,Bg4,h3,Bh5,Be2,O-O,Nxg5', 'Bxe2,Qxe2,hxg5', 'https://lichess.org/training/4jQnX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4jryj', 'Rapid', 'giogioka', 1875, 'ahmedashraf50', 1815, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Bb5,Nf6,c3,Bd6,Re1+,Be6,Ng5,Qd7,d3,O-O,Nd2,h6,Bxc6,bxc6,Nxe6,fxe6,Nf3,Ng4,h3,Nf6,Ne5,Bxe5,Rxe5,Qf7,Be3,Nd7,Rh5,Qg6,Qe2,Rf7,Rh4,Ne5,d4,cxd4,cxd4,Nc4,Bxh6,Raf8,Rf1,Qh7,Qxe6,gxh6,Rxh6,Qf5,Rg6+,Kh8,Rh6+,Rh7,Rxh7+,Kxh7,Qxc6,Nxb2', 'Qb7+,Rf7,Qxb2', 'https://lichess.org/training/4jryj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4jsJX', 'Blitz', 'kreacij55', 1666, 'unclJ', 1663, 'd4,d5,c4,e5,dxe5,d4,Nf3,Bb4+,Bd2,Nc6,Bxb4,Nxb4,Nbd2,c5,Ne4,Bf5,Nd6+,Kf8,Nxf5,Qa5,Nd2,Re8,Nd6,Rxe5,Nxb7', 'Nd3#', 'https://lichess.org/training/4jsJX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4JTP6', 'Rapid', 'Peter160871', 1832, 'T4t4r4n4', 1864, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,O-O,b4,Bb6,b5,Na5,Nxe5,Nxc4,Nxc4,d5,Nxb6,axb6,e5,Re8,d4,Ne4,O-O,Bf5,Bb2,c5,f3,Ng5,Bc1,Ne6,Be3,Qd7,a4,cxd4,cxd4,f6,f4,fxe5,fxe5,Be4,Nd2,Bd3,Rf3,Rf8,Rxf8+,Rxf8,Nf3,Be4,Qe2,Nf4,Bxf4,Rxf4,Rf1,Qg4,h3,Qg3,e6,Bxf3,Rxf3,Rxf3,Qxf3,Qxf3,gxf3,Kf8,Kg2,Ke7,Kg3,Kxe6,Kf4,g6', 'Kg5,Kf7,Kh6', 'https://lichess.org/training/4JTP6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4juD2', 'Rapid', 'order523', 1767, 'WAKALAO', 1833, 'e4,c5,Bc4,e6,Nf3,Nf6,Nc3,a6,d4,Nc6,Be3,Qb6,Rb1,cxd4,Nxd4,Nxd4,Bxd4,Bc5,Bxc5,Qxc5,Bb3,O-O,h3,d5,exd5,exd5,O-O,Be6,Re1,b5,a3,Rad8,Qf3,Rfe8,Ne2,Ne4,Rbd1,Ng5,Qf4,h6,Ng3,Bxh3,Rxe8+,Rxe8,Rxd5,Qe7,Kh2,Bc8,Nf5,Bxf5,Rxf5,Kh8,Bxf7,Nxf7,Rxf7,Qc5,Rf5,Qxc2,b4,Qe2,Qg3,Qe1,Qg6,Qd2,Rf7,Rg8,Qxa6,Qg5,Rf3,Rd8,Qb6,Qh5+,Rh3,Qe5+,g3,Rf8,Rh4,Qe1,Kg2,Qc3,Qxb5,Qf3+,Kh3,Qh1+,Kg4,Qf3+,Kh3,Qxf2,Qe5,Qf1+,Kg4,Qf3+,Kh3,Qxa3,Rxh6+,Kg8,Rg6,Qa7,Rg4,Qf7,b5', 'Qf1+,Kh4,Qh1+,Kg5,Qh6#', 'https://lichess.org/training/4juD2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4judJ', 'Rapid', 'vidhyut', 1894, 'AntonioMagela', 1930, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,Nc3,Nf6,Be2,Be6,a3,Be7,Bf4,a6,h3,O-O,O-O,Bd6,Bxd6,Qxd6,Qd3,Ne7,Rfe1,Bf5,Qd2,c6,Bd3,Bxd3,Qxd3,h6,Ne2,Ne4,Nc3,f5,Nd2,Ng6,Nf3,Rae8,Ne2,Nf4,Nxf4,Qxf4,Re2,Re6,Ne5,Qh4,Nf3,Qh5,Ne5,g5,Rae1,g4,hxg4,fxg4,Rxe4,dxe4,Rxe4,Rf5,Qb3,Qe8,Nxg4,Kf7,Nxh6+,Kf6,Nxf5,Rxe4,Qf3,Re1+,Kh2,Qb8+,Ng3+,Ke7,Qh5,Qd6,Qg5+,Kd7,Qg4+,Kc7,Kh3,Qh6+,Qh5', 'Rh1+,Kg4,Rxh5', 'https://lichess.org/training/4judJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4jUpX', 'Rapid', 'firoznep', 1975, 'Stoerig', 2227, 'e4,c5,Nf3,e6,c4,Nc6,Nc3,Nf6,d4,cxd4,Nxd4,d5,cxd5,Nxd4,Qxd4,exd5,Nxd5,Nxd5,Bb5+,Bd7,Qxd5', 'Qa5+,Bd2,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/4jUpX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4jXAE', 'Rapid', 'SolievIsroil', 1848, 'Inamul', 1806, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Ne5,Nc3,Bb4,Bf4,d6,Be2,Nf6,f3,O-O,O-O,Bc5,Be3,Bd7,Bf2,Ng6,f4,Nxf4,Nb3,Nxe2+,Qxe2,Bg4,Qb5,Bxf2+,Rxf2,b6,Qg5,Be6,Rd1,Qe7,Rdf1,Kh8,Rxf6,gxf6,Rxf6,Rg8,Qf4,Rg4,Qf3,Rag8,g3,R4g5,Kg2,R8g7,Nd4,Bg4,Qf4,Bd7,Nd5,Qe5,Qxe5,dxe5,Nf3,Rg4', 'Nxe5,Rxe4,Nxd7', 'https://lichess.org/training/4jXAE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4JXbx', 'Rapid', 'Neverness', 2090, 'Oleg11111', 1727, 'd4,d5,c4,dxc4,e4,Nf6,e5,Nd5,Bxc4,e6,Nc3,c6,Nge2,Be7,O-O,O-O,a4,Na6,f4,f5,Nxd5,cxd5,Bxa6,bxa6,Qd3,Qb6,Be3,Qxb2', 'Rfb1,Qb6,Rxb6', 'https://lichess.org/training/4JXbx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4jXiA', 'Rapid', 'STAN1965', 1922, 'ElvijsA', 1913, 'e4,e5,Nc3,Nc6,Nf3,Nf6,d4,exd4,Nxd4,Bb4,Bg5,Bxc3+,bxc3,O-O,Bd3,d6,O-O,h6,Bh4,Bd7,Nf5,Ne5,f4,Ng6,Be1,Re8,Rb1,Bc6,Bh4,Nxh4,Nxh4,Nxe4,Qg4,Nd2,Nf5,Qf6,Rfe1,Nxb1,Rxb1,b6,Nd4,Be4,Rf1,Bxd3,cxd3,Re3,Rd1,Rae8,Kf2,c5,Nf5,Re2+,Kf1,Rxa2,d4,Ree2,Rd3,Rf2+,Ke1,Rxg2,Nxh6+,Qxh6,Qc8+,Kh7,Qf5+,Qg6', 'Rh3+,Kg8,Qc8#', 'https://lichess.org/training/4jXiA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4JXwC', 'Blitz', 'Berzerk_only', 2083, 'PeretyatkoValery', 2136, 'd4,Nf6,Nc3,c5,dxc5,e6,Bg5,Bxc5,e3,O-O,Nf3,d5,Be2,Nbd7,O-O,a6,a3,Qc7,e4,dxe4,Nd2,Qc6,Re1,h6,Bh4,b5,Ncxe4,Nxe4,Bf3,f5', 'Nxe4,fxe4,Bxe4,Qb6,Bxa8,Bxf2+,Bxf2', 'https://lichess.org/training/4JXwC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4k7Em', 'Rapid', 'Nonold', 2005, 'nimanegar', 1872, 'Nf3,d5,g3,Nf6,Bg2,c6,c4,e6,b3,Be7,O-O,Nbd7,Bb2,O-O,e3,Qc7,Qe2,Ne4,d3,Nef6,Nc3,a6,Rac1,b6,Rfd1,Bb7,d4,c5,dxc5,bxc5,cxd5,exd5,Na4,Rfe8,Nh4,g6,Qf3,d4', 'Qxb7,Qxb7,Bxb7', 'https://lichess.org/training/4k7Em');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4kcky', 'Rapid', 'TitoMolina', 2035, 'YASSER170', 1930, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Bxd3,Qxd3,c5,c3,Nc6,O-O,Nge7,Re1,Nf5,g4,Nh4,Nbd2,Nxf3+,Nxf3,Be7,Be3,Qb6,Rab1,O-O,h4,f6,exf6,Bxf6,Bg5,Rae8,Bxf6,Rxf6,g5,Rf4,Qe3,Re4,Qd3,Rxe1+,Rxe1,cxd4,cxd4,Nb4,Qb1,Qa6,a3,Nd3,Re3,Nf4,Ne5,Ne2+,Kg2,Nxd4,h5,Qb6,h6,Qd8,g6,Qg5+,Rg3,Qf5', 'gxh7+,Qxh7,Rxg7+,Qxg7+,hxg7', 'https://lichess.org/training/4kcky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4kCQM', 'Rapid', 'tabarjack', 2183, 'abidara', 1923, 'e4,e6,f4,d5,e5,d4,Nf3,c5,Bb5+,Bd7,Qe2,a6,Bxd7+,Nxd7,c3,Nb6,cxd4,cxd4,d3,Bc5,a3,Nd5,b4,Ba7,O-O,Nge7,Nbd2,Nxf4,Qe4,Neg6,Nc4,Qd5,Nd6+,Kf8,Bxf4,Qxe4,Nxe4,Nxf4,Rad1,h6,Nd6,b5,Nh4,g5,g3,Ne2+,Kh1,gxh4,Rxf7+,Kg8,Rd2,Bb8,Rf6,Kg7,Rf7+,Kg6,Rf6+,Kg7,Rf7+,Kg8,Rf6,Nc3,gxh4,Bxd6', 'Rg2+,Kh7,Rf7#', 'https://lichess.org/training/4kCQM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4kdO8', 'Rapid', 'Dresqus', 1570, 'iloveobama', 1684, 'e4,c6,d4,d5,e5,e6,Nf3,c5,c3,cxd4,cxd4,Nc6,Bb5,Bd7,Bg5,Be7,Bxe7,Qxe7,O-O,Qb4,Qb3,a6', 'Bxc6,Qxb3,Bxd7+,Kxd7,axb3', 'https://lichess.org/training/4kdO8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4kDXC', 'Rapid', 'HechSee', 1614, 'Bejoni', 2029, 'e4,c5,c4,Nc6,Nf3,d6,d4,cxd4,Nxd4,e6,Nc3,Nf6,Bg5,Nxd4,Qxd4,e5,Qd2,Be6,Be2,Rc8,b3,a6,O-O,h6,Bh4,Nxe4,Bxd8,Nxd2,Rfd1,Nxc4,bxc4,Rxd8,Rab1,Rd7,Nd5,Be7,Rb6,Bd8,Rb4,O-O,Nb6,Bxb6,Rxb6,Rfd8,a4,g6,a5,d5,cxd5,Rd6', 'Rxd6,Rxd6,dxe6', 'https://lichess.org/training/4kDXC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4kMKH', 'Classical', 'Edineificher', 2027, 'Volkanov_Sergey', 2099, 'e4,c5,Nf3,a6,Bc4,Nc6,d4,cxd4,Nxd4,Nf6,Qd3,Ne5,Qb3,Nxc4,Qxc4,Nxe4,Ne6,Nd6', 'Nc7+,Qxc7,Qxc7', 'https://lichess.org/training/4kMKH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4KO9X', 'Blitz', 'Yurvit', 2369, 'Sick_clown', 2407, 'd4,d5,Bf4,c6,e3,Qb6,b3,Nf6,Nf3,Bg4,Bd3,e6,O-O,Nbd7,c4,a5,Nc3,Nh5,Bg5,f6,Bh4,g5,h3,Bxf3,Qxf3,Ng7,Bg3,h5,Na4,Qd8,e4,g4,exd5,gxf3', 'Bg6+,Ke7,d6#', 'https://lichess.org/training/4KO9X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4KtfL', 'Classical', 'ruhat69', 1615, 'GIL777', 1614, 'e4,e5,b3,Nf6,Bb2,Nc6,Nf3,Bd6,d3,O-O,Be2,b6,h4,Ba6,Nbd2,Re8,h5,h6,Nc4,Bxc4,bxc4,Bc5,Bc1,Ng4,Be3,Bxe3,fxe3,Nxe3,Qd2,Nxg2+,Kd1,Nf4,Rg1,Nxh5', 'Qxh6,Qf6,Qxh5', 'https://lichess.org/training/4KtfL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4kUIo', 'Rapid', 'Jannchess', 1609, 's1a2h3', 1609, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,d5,e3,O-O,Nf3,Nbd7,Bd3,b6,Qc2,Bb7,cxd5,exd5,Ng5,Ne4,Ngxe4,dxe4,Bc4,Bxc3,Bxc3,Nf6,O-O-O,Re8,Qb3,Bd5,h4,Bxc4,Qxc4,Nd5,Bd2,h5,Rhg1,Rc8,g4,c5,dxc5', 'Rxc5,Qxc5,bxc5', 'https://lichess.org/training/4kUIo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4KXky', 'Rapid', 'a7medal', 1828, 'halilibrahimtosya', 1918, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,Nc3,e6,Bg5,Be7,Nf3,O-O,e5,dxe5,Nxe5,h6,Bh4,b5,O-O,Bb7,f4,b4,Ne2,Nc6,a3,bxa3,bxa3,Nxe5,fxe5,Ng4,Bxe7,Qxe7,Qd2,Qc5+,Kh1,Nf2+,Rxf2,Qxf2,Rg1,Rab8,h3,Bxg2+,Rxg2,Rb1+,Ng1', 'Rxg1+,Rxg1,Qxd2', 'https://lichess.org/training/4KXky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4kXPK', 'Rapid', 'Golovolom', 2245, 'benkar', 2197, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,dxc4,a4,g6,e4,Be6,Ng5,Qd7,Be3,h6,Nxe6,Qxe6,d5,cxd5,exd5,Qc8,Qd4,Bg7,Qxc4,Qxc4,Bxc4,O-O,Ke2,Nbd7,Rhd1,Ne5,Bb3,a6,f4,Ned7,Kf3,h5,h3,Rac8,g4,Nc5,Bc2,a5,g5,Nfd7,Bd4,Na6,Bxg7,Kxg7,Bd3,Nb4,Bb5,Nb6,Rd2,Rfd8,Rad1,Rd6,Rd4,Rcd8,Ke4,f5+,gxf6+,exf6,Bc4,f5+,Kf3,Nc2,Bb3,Nxd4+,Rxd4,Kf6,Nb5,R6d7,Nc3,Re7,Bc2,Re1,d6,h4,Nb5,Rg1,b4,axb4,a5,Nd7,Rxb4,Rg3+,Kf2,Rxh3,Bb3,Rh2+,Kf3,Rd2,Ke3,h3', 'Kxd2,h2,Bd5', 'https://lichess.org/training/4kXPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4l02A', 'Blitz', 'TonyOne', 1693, 'Liichess', 1730, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,h6,Be3,Bf5,Bb5+,Nc6,Ne5,Qc7,O-O,e6,Rc1,a6,Nxc6,bxc6,Ba4,Be7,Bb3,Bd6,g3,Bg4,f3,Bh3,f4,Bxf1,Qxf1,Ng4,Qf3,Nxe3,Qxe3,c5,Nxd5,Qa7,c3,O-O,Nf6+,gxf6,f5,Kg7,fxe6,Rfe8,Rf1,cxd4,cxd4,Be5,exf7,Re7,Qf3,Bxd4+,Kg2,Rf8', 'Qg4+,Kh8,Qg8+,Rxg8,fxg8=Q#', 'https://lichess.org/training/4l02A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4l2bQ', 'Rapid', 'FranzJosephOfAustria', 1683, 'amirabedi1987', 1684, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qe6,Be2,a6,O-O,Nc6,Re1,Qg6,Nd5,Bd6,d4,e4,b3,exf3', 'Bd3+,Be6,Bxg6', 'https://lichess.org/training/4l2bQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4L6oE', 'Rapid', 'ZYPHYRINIUM', 2036, 'linuxpenguin77', 2031, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Bc4,e6,Qe2,Bd6,d3,Nf6,h5,Bh7,Be3,b5,Bb3,a5,a3,Qc7,Rh3,Nd5,Bd2,Nf4,Bxf4,Bxf4,Ne4,Nd7,g3,Bd6,Nxd6+,Qxd6,O-O-O,a4,Ba2,b4,axb4,Qxb4,Rh4,Qb7,Nd4,e5,Qf3,O-O,Nxc6,Kh8,Rb4,Qc7,Qd5,Nf6,Qb5,Rfc8,Rc4,Qd7,Re1,e4,g4,exd3,Rd1,Re8,Rd4,Qxg4,Rxg4,Nxg4,f3,Nf2,Rf1,Re2,Nd4', 'd2+,Kb1,Re1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/4L6oE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4L9Ci', 'Rapid', 'saijaa93', 2064, 'Boneymoney', 2310, 'e4,c5,Nc3,d6,Nf3,Nc6,Bc4,Nf6,d3,g6,h3,Bg7,O-O,O-O,Bb3,Nd4,Nxd4,cxd4,Ne2,e5,f4,Nd7,f5,Nc5,fxg6,hxg6,Ng3,Nxb3,axb3,Qh4,Qf3,f5,exf5,Bxf5,Nxf5,Rxf5,Qxb7', 'Rxf1+,Kxf1,Rf8+', 'https://lichess.org/training/4L9Ci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4LaPl', 'Classical', 'EsaTajDefenseChess', 1962, 'Toliprudes', 1830, 'e3,d5,d3,e5,a3,Nf6,h3,Bc5,b4,Bb6,Bb2,Nbd7,Nd2,O-O,Ne2,c6,g4,a5,c3,Qc7,d4,e4,Ng3,Re8,g5,axb4,gxf6,bxa3,Bxa3,Nxf6,Be2,Be6,Nh5,Nd7,Rg1,g6,Nf4,Nf6,Nxe6,fxe6,Nf1,e5,Bh5,exd4,Bxg6,hxg6,Rxg6+,Kf7,Rxf6+,Kxf6,cxd4,Ba5+,Ke2,Rg8,Ng3,Qh7,Qh1,Qh4', 'Be7+,Kxe7,Nf5+,Kd7,Nxh4', 'https://lichess.org/training/4LaPl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4laQC', 'Rapid', 'Jezumo', 1624, 'Rndrps', 1909, 'e4,c5,Nf3,e6,a3,Nc6,d3,d5,exd5,exd5,Be2,Nf6,Bg5,h6,Bh4,Be7,O-O,O-O,h3,b6,Nh2,Bb7,f4,d4,Bf3,Rc8,Ng4,Nd5,Bxe7,Ndxe7,f5,Nd5,Bxd5,Qxd5,f6,Ne5,Rf2,h5,fxg7,Kxg7,Nf6,Qc6,Nxh5+,Kh8,Nf6,Kg7,Qh5,Rh8,Qxe5,Kf8,Nd7+,Qxd7,Qxh8+,Ke7,Qg7,Qe6,Nd2,Re8,Raf1,Kd8,Rxf7,Qe3+,Kh1,Qxh3+,Kg1,Qe3+,Kh1,Bc6,Qf6+,Re7,Rxe7', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/4laQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4LBKG', 'Classical', 'matein32', 1748, 'Shadowmam', 1792, 'e4,c5,Nc3,Nc6,Bb5,Nd4,d3,Nxb5,Nxb5,a6,Nc3,e6,Nf3,d5,Bg5,Be7,Bxe7,Nxe7,exd5,Nxd5,Ne4,O-O,c4,Nb4,a3,Nxd3+,Ke2,Nxb2,Qc2,Nxc4,Qxc4,b6,Rhd1,Qe7,Nd6,Bd7,a4,Bc6,Qh4', 'Bxf3+,gxf3,Qxh4', 'https://lichess.org/training/4LBKG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4lcbk', 'Rapid', 'Rickiboulous1', 1900, 'nral49', 2167, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,c6,Bd3,Bg6,O-O,Nbd7,b3,e6,Nbd2,Be7,Re1,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bxg6,hxg6,c4,Bd6,Bg5,Qc7,Bxf6,gxf6,d5,Rad8,Qc2,exd5,Rad1,dxc4,Qxc4,Kg7,Qc3,Be5,Qc5,Rxd1,Rxd1,b6,Qe3,Re8,Qd2,c5,h3,Qc6,Qd3,Qc8,Qd5,Qe6,Qd3,Qc6,Qc4,Qc8,Qd5,Re6,Qc4,Bb8,Qg4,Qc7,g3,Qe7,Kg2,Re4,Qc8,Qe8', 'Rd8,Qxd8,Qxd8', 'https://lichess.org/training/4lcbk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Lgxf', 'Rapid', 'Robinsonahp', 1841, 'fanatic22779', 1830, 'c4,b5,e4,Bb7,Nc3,e5,cxb5,Bb4,d3,Ne7,Nf3,d6,a3,Bc5,b4,Bb6,Bg5,f6,Bh4,O-O,Be2,Nd7,Rc1,Re8,O-O,Nf8,a4,a5,bxa5,Rxa5,Nd2,Ne6,Nc4,Ra8,Bg4,Nc5,Ra1,Ng6,Bg3,d5,Nxb6,cxb6,Bf3,d4,Nb1,Bc8,Be2,Be6,Nd2,f5,f3,f4,Bf2,Qg5,Nc4,Nh4,Bxh4,Qxh4,Nxe5', 'Bb3,Qd2,Rxe5', 'https://lichess.org/training/4Lgxf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4lkfh', 'Rapid', 'jamesfdavenport', 1865, 'Lqpe', 1820, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,f4,b5,a3,Bb7,Qd3,Nbd7,O-O,Qc7,Bf3,O-O,f5,Nc5,Nxc5,Qxc5+,Kh1,Rac8,Bg5,h6,Bh4,Rfd8,Bxf6,Bxf6,Rac1,Bg5,Rcd1,b4,axb4,Qxb4,Rb1,Rd7,Bg4,f6,Nd5,Bxd5,Qxd5+,Kh7,Bh5,Re7,c3,Qc5,Bg6+,Kh8,Rbd1,Qxd5,Rxd5,Rd7,Rfd1,Rc4,Rxd6,Rxd6,Rxd6,Rc8,b3,Kg8,c4,a5,Re6,Kf8,g3,Bd2,Kg2,Bb4,Kf3,Rd8,Ke3,Bd2+,Ke2,Bb4,Ke3,Bd2+,Ke2,Bb4,h3,Rd2+,Ke3,Rd8,Ke2,Rd2+,Ke3,Rd8,Ra6,Ke7,Rc6,Kd7,Ra6,Kc8,Ra8+,Kc7,Ra7+,Kc6,Rxg7,Bd2+,Ke2,Bc3,Rf7,Rd2+,Ke3,Rd6,Rh7,Kc5,Rxh6', 'Bd2+,Kf2,Bxh6', 'https://lichess.org/training/4lkfh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4LlVb', 'Rapid', 'SansAvoirVecu', 1855, 'Bojanov', 1797, 'b4,g6,Bb2,Nf6,b5,Bg7,c4,O-O,e3,a6,a4,axb5,axb5,Rxa1,Bxa1,c6,Nc3,d5,Nf3,Bg4,h3,Bxf3,Qxf3,dxc4,Bxc4,cxb5,Nxb5,Qa5,Bc3,Qa4,Qf4,Nh5', 'Bxf7+,Rxf7,Qxa4', 'https://lichess.org/training/4LlVb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4lo01', 'Classical', 'Unan', 1663, 'adrianthebest', 1662, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,d6,Bb5,Bd7,O-O,Nxd4,Nxd4,exd4,Qxd4,d5,Re1,Bb4,Bxd7+,Qxd7,exd5+,Kf8,a3,Bxc3,bxc3,Nxd5,Rb1,b6,a4,Qc6,Ba3+,Kg8,Re5,Nxc3,Rd1,Nxd1,Qxd1,Re8,Be7,f6,Re4,Kf7,Re3,Rxe7,Rxe7+,Kxe7,Qe2+,Kf7,h3,Re8,Qh5+,g6,Qxh7+,Ke6,Qxg6,Qxa4,g3,Rd8,Kg2,Qc6+,Kh2,Rd1,Qg4+,f5,Qxd1,a5,h4,a4,h5,a3,h6,Qd7', 'Qxd7+,Kxd7,h7', 'https://lichess.org/training/4lo01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4lrcx', 'Rapid', 'jescude', 1615, 'PR_Paulo_Roberto', 1620, 'd4,d5,c4,Nf6,Nc3,a6,Bg5,e6,cxd5,exd5,Nf3,b5,a3,Bb7,e3,c5,dxc5,Bxc5,Be2,Nbd7,O-O,O-O,Nd4,Qc7,Bf4,Bd6,Bg5,Bxh2+,Kh1,h6,Bxf6,Nxf6,g3,Bxg3,fxg3,Qxg3,Rf3,Qg5,Qf1,Ng4,Nd1,Rae8,Rg3,f5,Nf3,d4,Kg1,Bxf3,Bxf3,Qh4,Rh3,Qg5,Rg3,dxe3,Qe2,h5,Bxg4,fxg4,a4,Rf3', 'Qxf3,gxf3,Rxg5', 'https://lichess.org/training/4lrcx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4lri8', 'Rapid', 'tombou', 1776, 'IsidraRules', 1800, 'e4,e5,Nf3,Nc6,Nc3,Bc5,a3,Nf6,d3,Ng4,d4,exd4,Na4,Be7,Nxd4,d6,Nxc6,bxc6,Be2,Ne5,O-O,O-O,Nc3,Be6,b3,d5,exd5,cxd5,Nb5,a6,Nd4,c5,Nxe6,fxe6,Bb2,Qc7,c3,Rad8,Bxa6,c4,bxc4,dxc4,Qe2,Kh8,Bb5,Nd3,Rab1,e5,Kh1,Bc5,f3,Qb6,a4,Nf2+,Rxf2,Bxf2,Ba3,Rf6,Be7,Rh6,Bxd8', 'Rxh2+,Kxh2,Qh6+,Bh4,Qxh4#', 'https://lichess.org/training/4lri8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4LTpv', 'Rapid', 'calistri', 1783, 'Gw22', 1859, 'e4,c5,Nc3,a6,Bc4,e6,a3,Nc6,Nf3,d6,d3,b5,Bxb5,axb5,Nxb5,Ba6,Nc3,Nf6,Bg5,Be7,O-O,h6,Bh4,Rb8,b3,Qa5,Ne2,O-O,Ng3,g5,Nxg5,hxg5,Bxg5,c4,Bxf6,Bxf6,b4,Qg5,f4,Qg7,Nh5,Qg6,Nxf6+,Qxf6,Qg4+,Qg6,Qf3,cxd3,cxd3,Nd4,Qe3,e5,Qh3,f5,exf5,Rxf5,fxe5,Rxf1+,Rxf1,dxe5,Re1,Re8,Re4,Kf7,Rg4,Qf6,Qh7+,Kf8', 'Rg8#', 'https://lichess.org/training/4LTpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ltv4', 'Rapid', 'westmount', 2099, 'Intergalactic', 2093, 'e4,e6,d4,d5,Nd2,Be7,c3,c5,Ngf3,Nf6,Bd3,dxe4,Nxe4,cxd4,cxd4,Nc6,O-O,Nxe4,Bxe4,Bf6,d5,exd5,Bxd5,O-O,Be3,Qa5,Qb3,Ne7,Rad1,Nxd5,Rxd5,Qa6,Nd4,Be6,Nxe6,Qxe6,Rfd1,b6,h3,h6,Qa3,Be7,Qa4,Rfc8,Bf4,Rc6,Re5,Rc4,Qb5,Rc5', 'Rxe6,Rxb5,Rxe7', 'https://lichess.org/training/4ltv4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4LUkb', 'Blitz', 'MrMcKvarz', 1649, 'UglyKidJoe', 1658, 'd4,g6,Bf4,Bg7,e3,c5,c3,Qa5,Nd2,Nc6,h4,h5,Bd3,d6,Qc2,Nf6,Bxg6,fxg6,Qxg6+,Kf8,Rh3,Bxh3,Nxh3,Qd8', 'Ng5,Qe8,Ne6+,Kg8,Qxg7#', 'https://lichess.org/training/4LUkb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4LXFq', 'Rapid', 'Boris2606', 1780, 'yuhanchen', 1832, 'e4,c5,c3,Nc6,Nf3,g6,d4,cxd4,cxd4,Bg7,Be3,d6,h3,Nf6,Nc3,O-O,Be2,Qa5,Bd2,Qb6,O-O,Nxd4,Nxd4,Qxd4,Qc2,Nxe4,Nxe4,Bf5,Bd3,Rac8,Qb1', 'Bxe4,Bxe4,Qxd2', 'https://lichess.org/training/4LXFq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4lxzs', 'Classical', 'DredRen', 2149, 'frank110255', 1968, 'e4,c5,c3,Nc6,d4,d5,exd5,Qxd5,Nf3,Nf6,Be3,Bg4,Be2,e6,O-O,cxd4,cxd4,Bb4,Nc3,Qd6,Qb3,O-O,Rac1,Rac8,a3,Bxc3,Rxc3,Nd5,Rc5,Bxf3,Bxf3,Nxe3,fxe3', 'Nxd4,exd4,Qxd4+', 'https://lichess.org/training/4lxzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4lygQ', 'Rapid', 'Grisalho', 1754, 'MatkoMac', 1760, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,cxd4,Nxe4,Bc4,Bb4+,Nbd2,Bxd2+,Nxd2,Nxd2,Bxd2,O-O,O-O,Nxd4,Qg4,Ne6,Bc3,Qg5', 'Bxe6,Qxg4,Bxg4', 'https://lichess.org/training/4lygQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4m1iP', 'Rapid', 'rvj1994', 2178, 'phoenixchuks', 2253, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,Ng5,Bf5,O-O,Bxd3,Qxd3,h6,Nf3,O-O,Re1,Nbc6,c4,dxc4,Qxc4,a6,Nc3,b5,Qf1,Bb4,Bd2,Nf5,d5,Ncd4,Nxd4,Nxd4,Qd3,c5,a3,Bxc3,Bxc3,Qxd5,Bxd4,Rad8,Rad1,Qxd4,Qxd4,Rxd4,Rxd4,cxd4,Rd1,Rc8,g3,Rc4,Kf1,g6,Rd2,Kg7,Ke2,Kf6,Kd3,Ke5,Re2+,Kd6,Re4,Kd5,Re7,f5,Ra7,Rc6,Rd7+,Ke5,Rxd4,Rc2', 'f4+,Kf6,Kxc2', 'https://lichess.org/training/4m1iP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4m4gq', 'Rapid', 'borrom', 1864, 'meshal86', 2135, 'Nf3,g6,c4,Bg7,d4,d6,g3,c6,Bg2,Qc7,O-O,a6,Nc3,Nd7,e4,Ngf6,Rb1,O-O,Qc2,e5,d5,c5,b3,h6,Bb2,Qd8,a3,Qe7,b4,b6,bxc5,bxc5,Bc1,Ne8,Be3,Nef6,Qd2,Ng4,h3,Nxe3,Qxe3,f5,exf5,gxf5,Ne2,e4,Nh4,Ne5,Rbc1,Qg5,Nf4,Bd7,Qe2,Rae8,Rb1,Nf3+,Nxf3,exf3,Qxf3,Bd4,Rb6,Ba4,Ne6,Rxe6,dxe6,Bc2,Rxd6,Be4,Qb3,f4,Rxa6,fxg3,Bxe4', 'gxf2+,Kh1,Qg1+,Rxg1+,fxg1=Q#', 'https://lichess.org/training/4m4gq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4M5z0', 'Rapid', 'Namik-1975', 1672, 'Amesguine', 1652, 'e4,e5,Bc4,d6,Ne2,Nf6,Nbc3,Qe7,d3,Be6,Bb3,Bxb3,axb3,Qd7,Bg5,Be7,Bxf6,Bxf6,Nd5,Qd8,Nec3,c6,Nxf6+,Qxf6,O-O,Nd7,Qg4,Rd8,Rxa7,b5,f4,Qe6,Qxe6+,fxe6,fxe5,Nxe5,Rxg7,Rd7,Rxd7,Nxd7,Ne2,Ke7,Nf4,Rf8,g4,Ne5,h4,Nxg4,Rf3', 'e5,Ng6+,hxg6', 'https://lichess.org/training/4M5z0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4m6J0', 'Rapid', 'wackosters', 1657, 'Ifkaluva', 1657, 'e4,e5,Nf3,Nc6,Nc3,Bc5,d3,f5,Be2,f4,O-O,Nf6,Nd5,O-O,b3,d6,Bb2,Qe8,Nxc7,Qg6,Nxa8,Bh3,Nh4,Qg5,Bf3,Qxh4,gxh3,Qg5+,Bg2,Nh5,Nc7', 'f3,Qxf3,Rxf3', 'https://lichess.org/training/4m6J0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4M7MI', 'Rapid', 'rubem212', 1905, 'microwavetea', 1975, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,Qc7,f3,Nf6,Be2,d5,exd5,Nxd5,Nxd5,exd5,O-O,Bd6,g3,O-O,Bf2,Bh3,Re1,h5,Nxc6,bxc6,Qd4,Bf5,Qh4,g6,f4', 'Be7,Qxe7,Qxe7', 'https://lichess.org/training/4M7MI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4mAkC', 'Rapid', 'badcow', 1788, 'oliverK0308', 1923, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nc6,Nxc3,Bb4,Ne2,Nge7,O-O,d6,f4,Be6,Bd3,f6,Ng3,Qd7,f5,Bf7,a4,Bc5+,Kh1,Nd4,Bc2,O-O,Nge2,Nxc2,Qxc2,Nc6,Nf4,Nd4,Qd1,Bb3,Qg4,Nc2,Nh5,Nxa1,Bh6,Rf7,Rxa1,Bd4,Rf1,Bxc3,bxc3,Re8,Rf3,a6,Rg3,Ree7,Nxf6+,Rxf6,Bg5,Rff7,Bxe7,Qxe7,h4,b5,h5,Bxa4,h6,Bb3,Qe2,Bc4,Qe3,a5,Qa7,a4,Qb8+,Rf8,Qa7,Qh4+,Rh3,Qe7,Rg3,d5', 'Rxg7+,Qxg7,hxg7', 'https://lichess.org/training/4mAkC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4me23', 'Bullet', 'Asia_01', 1513, 'dobleteecu', 1790, 'e4,c5,Nc3,g6,f4,Nc6,d3,Bg7,Nf3,d6,Be3,Nd4,g3,Qa5,Bg2,Bg4,h3,Bxf3,Bxf3,Nxf3+,Qxf3,Bxc3+,bxc3,Qxc3+,Bd2,Qxa1+,Ke2,Qxa2,g4,Qxc2,h4,a5,h5,a4,hxg6,fxg6,f5,gxf5,gxf5,Nf6,Rh6,a3,Rxf6,exf6,Qh5+,Kd7,Qf7+,Kc6,Qd5+,Kb6,Qxd6+,Kb5,Qd7+,Ka6,Qd6+,Ka7,Ke1,Rhd8,Qc7,Rxd3', 'Qa5+,Kb8,Bf4+,Rd6,Bxd6+,Kc8,Qc7#', 'https://lichess.org/training/4me23');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4MfHE', 'Blitz', 'Arkalos', 1859, 'WCephei', 1937, 'e4,d5,exd5,Qxd5,Nf3,Qd8,Bc4,Nf6,Bxf7+,Kxf7,Ne5+,Kg8,c3,Nbd7', 'Qb3+,Nd5,Qxd5+,e6,Qxe6#', 'https://lichess.org/training/4MfHE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4MFSI', 'Rapid', 'DevIndran', 1680, 'CPhil', 1622, 'e4,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Nf3,Bd6,Bd3,Nf6,O-O,h6,b3,Bg4,Nbd2,Nc6,h3,Bh5,Bb2,Bg6,Rfe1,Re8,a3,Kd7,Bb5,Rad8,Bxc6+,bxc6,Nxe5+,Bxe5,Bxe5,Rxe5,Nf3,Ree8,Rad1+,Kc8,e5,Nd5,c4,Nc3,Rxd8+,Kxd8,Nd4,Kd7,f4,Be4,Re3,c5,Nb5,a6,Nxc3,Bc2,f5,Bxb3,e6+,fxe6,Ne4,exf5', 'Nxc5+,Kc6,Rxe8', 'https://lichess.org/training/4MFSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4mgpV', 'Rapid', 'TasteMyKnife', 1761, 'Space_warrior1212', 1742, 'd4,d5,c4,c6,Nc3,Nf6,a3,Nbd7,Nf3,e6,e3,Bd6,Be2,e5,O-O,e4,Nd2,O-O,b4,b5,cxb5,cxb5,Bxb5,g6,Bb2,a6,Bc6,Rb8,Bxd5,Nxd5,Nxd5,a5,Nxe4,Bb7,Nxd6,Bxd5,e4,Qf6,e5,Qg5,f3,axb4,Bc1,Qe7,Rb1,f6,axb4,fxe5,dxe5,Qxe5,Ne4,Bxe4,fxe4,Nf6,Bb2,Qg5,e5,Qe3+,Kh1,Ne4,Bd4,Rxf1+,Qxf1,Qxd4,e6,Rxb4', 'Qf7+,Kh8,Qf8#', 'https://lichess.org/training/4mgpV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4miTE', 'Rapid', 'GontyX', 1797, 'roybraym', 1732, 'd4,d5,Nf3,Nf6,c4,e6,Nc3,Nbd7,g3,Bb4,Ne5,Nxe5,dxe5,Ne4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/4miTE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4MJPt', 'Rapid', 'arras2016', 1890, 'ivko73', 1761, 'd4,d5,e4,dxe4,f3,exf3,Nxf3,Nf6,Bc4,e6,O-O,Be7,Ne5,O-O,c3,Nc6,Nxc6,bxc6,Bg5,Nd5,Bxe7,Qxe7,Bxd5,cxd5,Nd2,c5,dxc5,Qxc5+,Kh1,Ba6,Nb3,Qb6,Rf4,Bc4,Qh5,h6,Qh4,Kh7,Qg3,Bxb3,Qd3+,Kh8,axb3,Qxb3', 'Rb4,Rab8,Rxb3', 'https://lichess.org/training/4MJPt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4MKBV', 'Rapid', 'longngngc', 1606, 'purgin', 1786, 'Na3,e5,e4,f5,d3,Nf6,b3,Bc5,Nc4,d6,Be3,Bxe3,Nxe3,fxe4,f3,exf3,gxf3,O-O,Bh3,Bxh3,Nxh3,Nh5,Rg1,Qh4+,Nf2,c6,Qe2,Qb4+,Kd1,Nd7,a3,Qc3,Rb1,d5,f4,Nxf4,Qg4,Rf7,Nf5,Nf6,Qg5,Ne6,Qh4,Kh8,Rg3,Qc5,Rh3,Nf4,d4,Qb5,c4,dxc4,Nd6,Qd5,Nxf7+,Qxf7,Ne4,Nxh3,Nxf6,Qxf6,Qxh3,Rd8,Kc2,exd4,Rf1,cxb3+,Kxb3,Qd6,Qd3,Qd5+,Kb2,c5,Rf5,Qd6,Rh5,g6,Rh3,Qd5,Qxg6,Qd7', 'Qf6+,Qg7,Qxd8+', 'https://lichess.org/training/4MKBV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4MlAt', 'Rapid', 'samgch47', 2100, 'Potapych18', 1868, 'e4,e6,d4,d5,Nc3,Bb4,Qd2,Nf6,e5,Nfd7,Qg5,Qxg5,Bxg5,Bxc3+,bxc3,c5,Bd3,Nc6,Be3,O-O,Nf3,f6,exf6,cxd4,cxd4,Nxf6,O-O,Ng4,c3,Nxe3,fxe3,Bd7,e4,Rf6,e5,Rf7,Ng5,Rxf1+,Rxf1,h6,Nf7,Rf8,Nd6,b6', 'Bh7+,Kxh7,Rxf8', 'https://lichess.org/training/4MlAt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4mLrY', 'Rapid', 'AmShakes', 1635, 'Galmonte', 1896, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,Qc7,Bd3,Nf6,f3,Bb4,O-O,Nxd4,Bxd4,Bc5,Bxc5,Qxc5+,Kh1,O-O,Qd2,d6,Rae1,Bd7,f4,e5,f5,Rfe8,Rf3,Nh5,Ne2,g6,Qg5,f6,Qh4,Rf8,g4,Nf4,Nxf4,exf4,Rxf4', 'g5,Qf2,gxf4,Qxc5,dxc5', 'https://lichess.org/training/4mLrY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4mova', 'Rapid', 'nasera', 2004, 'vinc', 2116, 'e4,e5,d4,exd4,Bc4,d6,c3,Be6,Qb3,Bxc4,Qxc4,Nc6,cxd4,Nf6,Bg5,Be7,Nd2,Nxe4,Be3,d5,Qb3,O-O,Ngf3,Qd7,O-O,Rfe8,Rac1,Na5,Qc2,Bd6,Nxe4,dxe4,Nd2,f5,Nc4,Nxc4,Qxc4+,Kh8,g3,a6,a4,b5,axb5,Qxb5,Kg2,Rab8,Qxb5,Rxb5,Rc2,Reb8,Rb1,a5,Bd2,a4,Bf4,g6,Bxd6,cxd6,Rc4,a3,Ra4,Rxb2,Ra1,Rd2,R1xa3,Rbb2,Ra8+,Kg7,g4,Rxf2+,Kg3,Rxh2,g5,Rhg2+,Kh3,Rh2+,Kg3,Rbg2+,Kf4,Rf2+,Kg3,Rhg2+,Kh3,Rf3+', 'Kxg2,Rxa3,Rxa3', 'https://lichess.org/training/4mova');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4mqLB', 'Rapid', 'Khaemba', 1787, 'nirensharma', 1788, 'd4,d5,e4,e6,Nc3,dxe4,Nxe4,Nf6,Qe2,Qxd4,Nxf6+,Qxf6,Nf3,Bb4+,c3,Bxc3+,Bd2,Bxb2,Rd1,Bc3,g3,O-O,Bg2,c6,O-O,Bxd2,Nxd2,Qe7,Nc4,Nd7,Be4,Nf6,Bc2,Rd8,g4,b5,Ne5,g6,g5,Rxd1,Rxd1,Nd5,Nxc6,Qxg5+,Kf1,Nc3,Qd2,Qc5,Qd8+,Kg7,Ne7,Nxd1,Bxd1,b4,Qg8+,Kh6,Qf8+,Kg5,Qxf7,Ba6+,Kg1,Qc1,h4+,Kxh4', 'Qxh7+,Kg5,Qxg6+', 'https://lichess.org/training/4mqLB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4MR7S', 'Rapid', 'artscispo', 2188, 'ra2112', 2183, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,c6,Rc1,Nbd7,Qc2,b6,cxd5,cxd5,Qa4,a6,Bd3,b5,Bxb5', 'Nb6,Qb3,axb5', 'https://lichess.org/training/4MR7S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4My8m', 'Blitz', 'Glintvein', 2283, 'FM Ahmdnjr12512', 2247, 'e4,g6,d4,Bg7,Nc3,c5,Be3,cxd4,Bxd4,Nf6,Qd2,O-O,O-O-O,Nc6,Be3,Ng4,Bf4,d6,f3,Nge5,Bh6,Qa5,h4,Be6,a3,Rfc8,Kb1,Bh8,Bb5,a6,Bxc6,Rxc6,Nd5,Qxd2', 'Nxe7#', 'https://lichess.org/training/4My8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4MZHM', 'Blitz', 'NM El_Nica', 2343, 'maki1988', 2387, 'e4,d6,d4,Nf6,f3,g6,Be3,Bg7,Qd2,O-O,h4,e5,Ne2,Nc6,d5,Nd4,Nxd4,exd4,Bxd4,c6,c4,Re8,Nc3,b5,dxc6,bxc4,Bxc4,d5,Bxf6,Bxf6,Nxd5,Bxh4+,Kd1,Bg5,Qd4,Be6,Kc2,Rc8,c7,Rxc7,Rad1,Rd7,Kb1,Qa5,Bb3,Red8,a3,Rb8,Ka2,Rdb7,Rd3,Qd8,Qa4,Rxb3,Rxb3,Bxd5,exd5,Qxd5,Rd1,Qe6,Rd3,Bf6,Qd7', 'Rxb3,Rxb3,Qxd7', 'https://lichess.org/training/4MZHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4mZK8', 'Rapid', 'Kobracan', 2001, 'diegopiandita', 1901, 'd4,d5,Nf3,e6,e3,Nc6,Bd3,Nf6,b3,Bd6,a3,Qe7,Bb2,Bd7,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Qxe5,Nd2,O-O,Nf3,Qe7,c4,Bc6,cxd5,Bxd5,Qc2,Bxf3,gxf3,c6,Kh1,h6,Rg1,Nd5,Rg3,f5,Bxf5,Rf6,Rag1,Raf8,Rxg7+,Qxg7,Rxg7+,Kxg7,Be4,R8f7,Qc4,Nb6,Qc3,Nd5,Qa5,a6,Qd2,Kf8,b4,Ke8,a4,Nb6,Qc2,Nd5,Bg6,Rxf3,Bxf7+,Rxf7,b5,axb5,axb5,Kd7,bxc6+,bxc6,Kg2,Rf6,Qh7+,Kd6,Qe4,c5,f4,Re6,Qd3,Kc6,Qa6+,Nb6,Kf3,c4,f5,Rf6,e4,Kc5,Qa3+,Kd4,Kf4,c3,e5,Nd5+,Kg4,Kxe5,Qc5,Rxf5,h4,h5+,Kg3,Rf4,Qc6,Rg4+,Kf3,Kd4,Qa4+,Kd3,Qb5+,Kd4,Qa4+,Ke5,Qc2,Rxh4,Qe2+,Kf6,Qa6+,Kf5,Qc8+,Ke5,Qe8+,Kd6', 'Qd8+,Kc5,Qxh4', 'https://lichess.org/training/4mZK8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4N158', 'Rapid', 'Burburudur', 2027, 'suryanaren', 1875, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,e5,h6,Bd2,Bxc3,bxc3,Ne4,Qg4,Nxd2,Qxg7,Rf8,Kxd2,c5,Qxh6,Nc6,Bb5,cxd4,Bxc6+,bxc6,cxd4,Qa5+,c3,Ba6,Nf3,Rb8,Rhc1,Rb2+,Rc2,Qb5,Qe3,Rg8,g3,Rg4,Ne1,Re4,Qf3,Qe2+,Qxe2,Rxe2+,Kd1', 'Rxe1+,Kxe1,Rxc2', 'https://lichess.org/training/4N158');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4n1Gz', 'Classical', 'ariankarami82', 1708, 'troy29', 1859, 'e4,e5,Nf3,Nf6,d4,exd4,e5,Ng4,Qxd4,d6,h3,Nc6,Qe4,Ngxe5,Nxe5,Nxe5,f4,f5,Qe3,Qf6,fxe5,dxe5,Bc4', 'Qh4+,Kd1,Qxc4', 'https://lichess.org/training/4n1Gz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4N2Rd', 'Rapid', 'p_mischa', 1640, 'MattHouilles', 1642, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,h6,c3,Nc6,b4,Bb6,Qb3,O-O,g4,Nh7,Nf3,d6,a4,a6,a5,Ba7,Na3,Qf6,Ke2,Ne7,Be3,Bxe3,fxe3,Ng5,Nxg5,Qxg5,Raf1,Qg6,Kd2,Be6,Rf3,Bxc4,Qxc4,Rac8,Nc2,c5,Qb3,cxb4,Qxb4,Rc7,Qb3,Kh8,Nb4,f6,c4,Rc5,Ra1,Rb8', 'Nxa6,bxa6,Qxb8+', 'https://lichess.org/training/4N2Rd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4n419', 'Rapid', 'Astarot22', 2032, 'Rakesh218', 2027, 'd4,Nf6,Nf3,d5,e3,a6,Bd3,b5,Nbd2,Nbd7,c3,c5,O-O,g6,Re1,Bg7,e4,dxe4,Nxe4,Bb7', 'Nd6+,Kf8,Nxb7', 'https://lichess.org/training/4n419');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4n97Y', 'Blitz', 'jcmcobra', 1802, 'jogepari', 2032, 'd4,f5,Nf3,d6,Bg5,c6,e3,Qc7,Bd3,e5,dxe5,dxe5,Be2,Be7,Bxe7,Nxe7,c3,O-O,O-O,h6,Nbd2,Be6,Qc2,Nd7,Rad1,Nb6,a3,g5,c4,c5,b3,e4,Ne1,Rae8,Qb2,Ng6,Nb1,f4,exf4,gxf4,f3,e3,Nd3,Nd7,Nc3,Rf5,Ne4,b6,Nc1,Ref8,Rd6,Kf7,Rfd1,Nge5,Na2,Rg8,Nac3,Nf6,Nxf6,Rxf6,Ne4,Rfg6,Qxe5,Rxg2+,Kh1,Qe7,Qh5+,R8g6,Bd3,e2,Bxe2,Rxe2,Qe5', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/4n97Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4NbcL', 'Blitz', 'Hassek59', 1511, 'huevotello', 1576, 'd4,g6,c4,Bg7,e4,d6,Nf3,c6,Bd3,Nf6,O-O,O-O,Re1,Bg4,Nbd2,Nbd7,b3,e5,Bb2,a6,Be2,Qc7,d5,Bxf3,Bxf3,Nc5,Nf1,cxd5,cxd5,Rac8,Rc1,b6,b4,Qb7,bxc5,bxc5,Ba1,a5,Rb1,Qa6,Qa4,Rb8,Be2,Qa7,Rb5,Rxb5,Bxb5,Nxe4,Rxe4,f5,Re1,e4,Bxg7,Kxg7,Ne3,f4,Nc4,e3,fxe3,fxe3,Rxe3,Qf7,Qd1', 'Qf2+,Kh1,Qf1+,Qxf1,Rxf1#', 'https://lichess.org/training/4NbcL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4NbVJ', 'Blitz', 'GM Saltaev', 2495, 'Wepaly', 2108, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,Re1,Nc6,Nb3,a6,a4,Ng4,h3,Nge5,Bf1,Be6,Nd5,Bxd5,exd5,Na5,Nxa5,Qxa5,f4,Nd7,Rxe7,Nf6,c4,Rfe8,Rxe8+,Rxe8,Bd2,Qb6+,Kh2,Ne4,Be1,Bh6,Qc1,g5,b4,gxf4,Ra3,Bg7,Qd1,Be5,Qg4+,Kh8,Rf3,Rg8,Qf5,Ng5,Rxf4,Qe3,Bg3,Nxh3,Rf3,Qg1+,Kxh3', 'Qh1+,Bh2,Qxh2#', 'https://lichess.org/training/4NbVJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4NBzy', 'Blitz', 'stsingh', 1888, 'Higgins_47', 1848, 'e4,g6,d4,Nf6,Nc3,d6,f4,Bg7,Nf3,c5,Bb5+,Bd7,e5,Ng4,e6,fxe6,Ng5,Bxd4,Qxg4,Bxc3+,bxc3,Bxb5,Nxe6,Qd7,f5,gxf5', 'Qh5#', 'https://lichess.org/training/4NBzy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4nCIo', 'Rapid', 'CarlsenVittor', 1849, 'taran11', 1691, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,d5,exd5,Qxd5,Nc3,Qd6,Re1,f6,d4,b5,Ne4,Qb4,Bb3,Nxd4,Nxd4,Qxd4,Qh5+,Ng6,Nxf6+,gxf6,Be3,Qh4,Qf3,e4,Bd4,f5,Rxe4+,Qxe4,Qxe4+,fxe4,Bxh8,Bf5,Re1,O-O-O,f3,Bc5+,Kf1,exf3,Bf6,Rd2,Re8+,Kd7', 'Rd8+,Kc6,Rxd2,fxg2+,Kxg2', 'https://lichess.org/training/4nCIo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4nfK5', 'Rapid', 'Parraldo', 2173, 'Venturator', 2068, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,Bd6,Bg3,O-O,Ngf3,c5,c3,Qc7,Ne5,Nfd7,f4,f6,Bd3,fxe5,fxe5,Nxe5,dxe5,Bxe5,Qh5,Bxg3+,hxg3,Qxg3+,Kd1,h6,Kc2,Nc6,Rh3,Qg5,Qxg5,hxg5,Bh7+,Kf7,Rh5,Bd7,Rxg5,Ke7,Rxg7+,Kd6,Nf3,Rf6,e4,Rh6,exd5,exd5,Rd1', 'Rxh7,Rxh7,Bf5+,Kd2,Bxh7', 'https://lichess.org/training/4nfK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4NK43', 'Rapid', 'SergeiBov', 2001, 'oomid', 1963, 'e4,d6,d4,Nf6,Nc3,Bg4,f3,Bh5,Nge2,e6,Nf4,Bg6,Bb5+,c6,Ba4,Nh5,Nxg6,fxg6,O-O,Be7,d5,exd5,Nxd5,O-O,Nxe7+,Qxe7,Bb3+,Kh8,Be3,Nd7,Qd2,Ne5,Qe2,Nf4,Bxf4,Rxf4,Rad1,Raf8,Qd2,Qg5,Qxd6,Nxf3+,Kh1,Nh4', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/4NK43');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4nl3f', 'Blitz', 'alimamzy', 1806, 'Luis15CM', 1781, 'e4,Nf6,Nc3,e5,Nf3,Bb4,d3,Bxc3+,bxc3,Nc6,Be2,O-O,O-O,d5,exd5,Nxd5,Bd2,Bg4,a4,a5,h3,Bxf3,Bxf3,Nde7,Re1,f6,Re4,Qe8,Bg4', 'f5,Bh5,g6,Re1,gxh5', 'https://lichess.org/training/4nl3f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4NnwO', 'Blitz', 'KnygtErraunt', 1819, 'soo1', 1823, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,O-O,Nf3,c5,d5,Bg4,O-O,Nbd7,Be2,a6,Bg5,Rb8,h3,Bxf3,Bxf3,b5,cxb5,axb5,a3,Ne5,Be2,b4,axb4,cxb4,Na4,Nxe4,Bf4,Nc5,Nxc5,dxc5,Re1,f6,Rb1,Rb7,Bxe5,fxe5,Bf3,Rd7,Rc1,Qc7,b3,Rfd8,Re3,e6,Rd3,Qd6,Rc2,Qe7,Rcd2,Qh4,dxe6,Rxd3,Rxd3,Rxd3,Qxd3,Qd4,Qb5,e4,Qe8+,Bf8', 'Qf7+,Kh8,Qxf8#', 'https://lichess.org/training/4NnwO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4nQWF', 'Blitz', 'Kinseton', 1549, 'NegroArbizu', 1843, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Bc4,exd4,Bxd4,Nc6,Be3,Be7,Qf3,O-O,O-O-O,Ne5,Qe2,Nxc4,Qxc4,Be6,Qe2,Qa5,Kb1,Rac8,a3,Rfd8,h4,Ng4,Bd4,Nf6,h5,h6,g4,Bxg4,f3,Bxh5,Rdg1,Bg6,Qg2,Rxc3,Bxc3,Qc5,Re1,Bf8,f4,Bxe4,Rxe4,Nxe4,Qxe4,f5', 'Qe6+,Kh7,Rxh6+,gxh6,Qf7+,Bg7,Qxg7#', 'https://lichess.org/training/4nQWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4NqzE', 'Rapid', 'plomba', 1994, 'abdullah_ali', 1927, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,e3,Nbd7,Bd3,Bb4,O-O,Bxc3,bxc3,O-O,cxd5,exd5,Qc2,Re8,h3,h6,Bd2,b5,a4,bxa4,Qxa4,Bb7,Rfb1,Nb6,Qb3,Nfd7,Ra3,c5,Qa2,c4,Bf5,Qc7,Rxa7', 'Rxa7,Qxa7,Ra8', 'https://lichess.org/training/4NqzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4NqZr', 'Rapid', 'markscala', 1807, 'anthonyhug', 1751, 'e4,d5,exd5,c6,dxc6,Nxc6,Bb5,Qb6,Bxc6+,Qxc6,Nf3,e6,O-O,Bd6,Nc3,Ne7,b3,O-O,a4,b6,Nb5,Bb7,Nxd6,Qxd6,Bb2,Rad8,d3,Rc8,Rc1,Rfd8,Qe2,Qf4,Be5,Bxf3,gxf3,Qg5+,Kh1,f6,Rg1', 'Qxe5,Qxe5,fxe5', 'https://lichess.org/training/4NqZr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4NrqQ', 'Rapid', 'Ahmadullah', 1806, 'alexpav77', 1735, 'd4,d5,e4,dxe4,Nc3,f5,f3,exf3,Nxf3,c6,Be3,e6,Ne5,Nf6,Bg5,Be7,Bxf6,Bxf6,Qh5+,Ke7', 'Qf7+,Kd6,Nc4#', 'https://lichess.org/training/4NrqQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4NRsN', 'Rapid', 'Novelists', 1620, 'SaunteringShaman', 1625, 'd4,Nf6,Nf3,e6,g3,d5,Bg2,c5,c4,Nc6,O-O,cxd4,Nxd4,Be7,Nxc6,bxc6,cxd5,cxd5,Nc3,O-O,e4,Rb8,exd5,Qb6,dxe6,Bxe6,b3,Rfd8,Qe1,Bb4,Bd2,Rbc8,Na4,Bxd2,Nxb6,Bxe1,Nxc8,Bc3,Rad1,Rxc8,Rc1,h6,Rfd1,Kh7,Rd3,Bb2,Rxc8,Bxc8,Rd2,Ba3,Rd8,Be6,Ra8,Bc5,b4,Bb6,a4,Bd4,b5,Nd5,Rd8,Bf6,Bxd5', 'Bxd8,Bxe6,fxe6', 'https://lichess.org/training/4NRsN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4NRXo', 'Classical', 'alex25081986', 1833, 'MKOU', 1877, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bg5,d6,e4,Nbd7,Be2,e5,Bxf6,Nxf6,dxe5,dxe5,Nxe5,Qxd1+,Rxd1,Nxe4,Nxe4,Bxe5,Rd2,Bf5,Bf3,Rfe8,O-O,Bxh2+,Kxh2,Bxe4,Bxe4,Rxe4,c5,Re7,Rfd1,Kf8,Rd8+,Rxd8,Rxd8+,Re8,Rd7,Re7,Rd8+,Kg7,b4,f5,a4,Kf6,f4,Ke6,Kh3,Rd7,Rxd7,Kxd7,Kh4,h6,b5,Ke6,a5,Kd5,b6,axb6,cxb6,c5', 'a6,Kc6,a7', 'https://lichess.org/training/4NRXo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ns5R', 'Classical', 'Ilyeschess31', 1610, 'bravohz45', 1619, 'e4,e6,Nf3,d5,exd5,Qxd5,d4,c5,Nc3,Qd6,Be3,cxd4,Bxd4,Nc6,Bb5,a6,Bxc6+,Qxc6,O-O,Bb4,Qd3,Nf6,Rfe1,O-O,Bxf6,gxf6,Re4,Bxc3,bxc3,Kh8,Rh4,f5,Ng5,f6,Rxh7+,Kg8,Rh8+,Kxh8', 'Qh3+,Kg7,Qh7#', 'https://lichess.org/training/4ns5R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ntZ9', 'Rapid', 'Meatspinn19', 2001, 'Berbola87', 1964, 'd4,Nf6,c4,c5,d5,b5,Nc3,b4,Nb1,e6,Bg5,Be7,Nf3,d6,a3,a5,axb4,cxb4,e3,Bb7,dxe6,fxe6,Be2,Nc6,Nd4,Nxd4,exd4,Bxg2,Rg1,Be4,Nd2,Bg6,h4,h5', 'Bxf6,Bxf6,Rxg6', 'https://lichess.org/training/4ntZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4NYZy', 'Blitz', 'Neocortexsupplier', 1523, 'newbierookieamateur', 1695, 'c4,e5,d3,Nf6,Bd2,Nc6,Qc1,d5,c5,d4,e3,b6,cxb6,axb6,Qxc6+,Bd7,Qc1,Bd6,e4,O-O,g3,Ng4,f3,Ne3,Bxe3,dxe3,a3,Qc8,b4,f5,Qxe3,f4,Qc1,fxg3,hxg3,c5,b5,Ra4,Nc3,Rd4,a4,Qd8,Ra2,Qg5,Qxg5,h6,Qc1,Be6,Rah2,c4,Rxh6,cxd3,Qg5,d2+,Kd1,Bb3+,Ke2,Bc4+,Kd1,Bb3+,Ke2,Bc4+,Kf2,d1=Q,Nxd1,Bc5,Kg2,Rxd1,Qg6', 'Bxf1+,Kh2,Rd2+,Ne2,Rxe2#', 'https://lichess.org/training/4NYZy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4O16C', 'Classical', 'Despayeeto', 1651, 'Andronics61', 1657, 'd4,c5,Bf4,Nc6,d5,Qa5+,Bd2,Nb4,a3,Nf6,c4,d6,Bc3,Ne4,Qc1,Nxc3,Qxc3,Bf5,Nd2', 'Nc2+,Kd1,Qxc3,bxc3,Nxa1', 'https://lichess.org/training/4O16C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4o9XG', 'Blitz', 'Aza_Kozhakov_GM', 1985, 'more333', 1997, 'e4,e6,e5,d5,f4,c5,Bb5+,Nc6,Bxc6+,bxc6,d3,Ne7,Qf3,Ng6,Ne2,Be7,O-O,a5,Nbc3,Ba6,g4,Nh4,Qg3,Rb8,f5,exf5,gxf5,g5,f6,h6,fxe7,Qxe7,Kh1,O-O,Rg1,Nf5,Qg4,Qxe5,Bxg5,hxg5,Qxg5+,Ng7,Raf1,Qxg5,Rxg5,f6,Rg6,Kh7,Rgxf6,Rxf6,Rxf6,Re8,Rxc6,Bb7,Rxc5,d4+,Ne4,Bxe4+,dxe4,Rxe4,Ng3,Re1+,Kg2,Ne6,Rxa5,Nf4+,Kf3,Ne6,Rd5,Kg6,Rd6,Kf7,a4,Re3+,Kf2,Ng5,a5,Rxg3,Rd7+,Ke6,Rb7,Rf3+,Ke2,Re3+,Kd2', 'Nf3+,Kc1,Re1#', 'https://lichess.org/training/4o9XG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4OAl7', 'Blitz', 'kingsize478', 1774, 'rafadcgr', 1782, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,g6,O-O,Bg7,h3,O-O,Be3,Nc6,Qd2,Nd7,Nxc6,bxc6,Nc3,c5,Bh6,Ne5,Bxg7,Kxg7,Bb5,Rb8,f4,Nd7,Rab1,a6,Bc4,Nb6,Bb3,a5,a3,Bb7,Nd5,Nxd5,Bxd5,Bxd5,Qxd5,Qb6,e5,Rfd8,Kh1,e6,Qe4,d5,Qf3,c4,c3,a4,Qd1,Qb3,Qxb3,cxb3,Rfd1,Rdc8,Rd4,Rc4,Rbd1,Rbc8,Kg1,Rxd4,Rxd4,Rc4,Rxc4,dxc4,Kf2,f5,Ke3,Kh6,Kd4,g5,g3,gxf4,gxf4,Kh5,Kxc4,Kh4,Kc5,Kxh3,Kd6,Kg3', 'Kxe6,h5,Kxf5,h4,e6,h3,e7,h2,e8=Q', 'https://lichess.org/training/4OAl7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4oaqH', 'Rapid', 'avidalvilar', 1743, 'Gondo3057', 1773, 'e4,e5,f4,exf4,Bc4,Qh4+,Kf1,Bc5,d4,Bb6,Nf3,Qf6,e5,Qd8,Bxf4,h6,h4,Nc6,Nc3,Nge7,d5,Na5,Bd3,O-O,Qd2,Ng6,Be3,Bxe3,Qxe3,b6,h5,Ne7,Qe4,g6,g4,c6,d6,Nd5,Nxd5,cxd5,Qxd5', 'Bb7,Qd4,Bxf3', 'https://lichess.org/training/4oaqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4oc72', 'Blitz', 'ontosenobtg', 2257, 'Vicendithas', 2212, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,O-O,e4,d6,Nge2,c5,O-O,Bg4,h3,Bxe2,Qxe2,Nc6,d3,Ne8,Be3,Nc7,a3,Ne6,Rab1,Rc8,Qd2,Ned4,b4,b6,Nd5,e6,Nc3,a6,f4,f5,b5,axb5,cxb5,Ne7,Ne2,fxe4,dxe4,e5,Nc3,Ra8,a4,Ra5,Kh1,Qd7,Qd1,Qe6,Nd5,Nxd5,exd5,Qd7,Bd2,Raa8,fxe5,Bxe5,Rxf8+,Rxf8,Qg4,Qxg4,hxg4,Bxg3,a5,bxa5,Bxa5,Rb8,Bc7,Rxb5,Rf1,Rb2,g5,Nf5,Ra1,Rb7,Bd8,Kf7,Bf6,Nh4,Bh3,Be5', 'Be6+,Kf8,Ra8+,Rb8,Rxb8#', 'https://lichess.org/training/4oc72');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ODP5', 'Blitz', 'Uliya', 2277, 'IM samisahi', 2580, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,f3,d6,e4,g6,Nc3,Bg7,a4,O-O,Bg5,axb5,Bxb5,Na6,Nge2,Nc7,Bc6,Rb8,Qc2,Bd7,Bxd7,Qxd7,O-O,Na6,Na2,Qb7,Rab1,Rfc8,Nec3,Nb4,Qb3,Nxa2,Qxa2,h6,Bxf6,Bxf6,Nb5,Qa6,Qc4,Qa5,b3,Kg7,f4,Rxb5,axb5,Rb8,e5,dxe5,fxe5,Bxe5,d6,e6,Qxc5,Rxb5,Qf2,Rb7,Rfd1,Rd7,b4,Qd8,Kh1,Rxd6,Rf1,Rd7,b5,Qb8,h3,Bd4,Qf3,Bb6,Qc6,Qc7,Rbc1,Qd8,Qc3+,Bd4,Qc8,Qe7,Rcd1,e5,b6,Rb7,Rb1,Rxb6,Rxb6,Bxb6,Qc4,Bd4,Qd5,h5,Qe4,Qe6,Qf3,e4,Qf4,Bc5,Re1,e3,Qa4,Qe5,Qb5,Qd4,Qe2,Qf4,Rf1,Qe5,Rf3,Bd6,g3,Bc5,Kg2,Qd4,Rf4,Qd5+,Rf3,g5,Kh2,Bd4,g4,hxg4,hxg4,Qe5+,Kg2,Qe4,Kh2,Be5+,Kh3', 'Qh7+,Kg2,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/4ODP5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4OEBh', 'Rapid', 'Ufity', 1945, 'ADRIAN0077', 2021, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,dxc4,a4,Bf5,Ne5,e6,f3,Nbd7,Nxc4,e5,e4,exd4,Qxd4,Be6,Nd6+,Bxd6,Qxd6,Qb8,Bf4,Qxd6,Bxd6,O-O-O,a5,Rhe8,Be2,Nb8,Bf4,Nh5,Be3,g6,Bxa7,f5,Bb6,Rd7,Rd1,fxe4,Nxe4,Rxd1+,Kxd1,Nd7,Bd4,Kc7,Kc2,Bf5,Bd3,Nf4,g3,Nxd3,Kxd3,c5,Bf2,Ne5+,Kc3,Nxf3,Nxc5,Re2,Bd4', 'Rc2+,Kb4,Nxd4', 'https://lichess.org/training/4OEBh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4OjOn', 'Blitz', 'Fritzy100', 1941, 'OoopsIgotCheckmated', 2096, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,exd4,cxd4,d6,Bd2,Nf6,Nc3,O-O,Qc2,Bg4,Be2,Bxf3,Bxf3,Nxd4,Qd3,Nxf3+,Qxf3,Re8,O-O,Bf8,Rfe1,c6,Bg5,Be7,Rad1,Qc7,Qg3,Rad8,Bh6,Bf8,Rd3,Kh8,Bg5,Be7,Rf3,Qa5,Qh4,Qe5,Bf4,Qh5,Qg3,Qg6,Qh3,Nh5,Bd2,Bf6,e5,Bxe5,Ne4,d5,Ng3,Nxg3,hxg3,Bf6,Rxe8+,Rxe8,Qd7,Qb1+,Kh2,Rf8,Bh6,Qg6,Bf4,d4,Qxb7,d3,Qxc6,Bg5', 'Qxg6,fxg6,Bxg5,Rxf3,gxf3', 'https://lichess.org/training/4OjOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4OMoL', 'Rapid', 'Denali', 1746, 'Selechess', 1723, 'd4,d5,Bf4,Nc6,e3,Bf5,Nd2,f6,c3,e5,dxe5,fxe5,Bg3,Nf6,Qb3,Rb8,Bb5,Bd6,Ngf3,O-O,Qa4,e4,Bxc6,exf3,Nxf3,bxc6,b3,Bxg3,hxg3,Qd6,Qxa7,Be4,Qd4,Bxf3,gxf3,c5,Qh4,d4,cxd4,cxd4,e4,d3,Rd1,h6,O-O,Ra8,Rd2,Rad8,Rfd1,Qa6,e5,Nh7,Qe4,Rfe8,f4,c5,Rxd3,Rxd3,Rxd3,Qxa2,Qd5+,Kh8,Qxc5', 'Qb1+,Kg2,Qxd3', 'https://lichess.org/training/4OMoL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4OnOh', 'Blitz', 'mouseleo', 1860, 'SUDAKA57', 1879, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bg5,Qa5,Nf3,a6,Bc4,Ne5,Nxe5,Qxe5,f4,Qa5,O-O,e6,f5,b5,fxe6,dxe6,Nxb5,axb5', 'Bxb5+,Qxb5,Qd8#', 'https://lichess.org/training/4OnOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4onpW', 'Rapid', 'ltl', 1765, 'Neverness', 1956, 'd4,d5,Nf3,Nf6,h3,c5,c3,e6,a3,Nc6,dxc5,Bxc5,b4,Bb6,Bb2,Ne4,e3,a6,Be2,Bd7,O-O,Qf6,Qc2,Qh6,c4,O-O-O,cxd5,exd5,Nbd2,Bxh3,Rfc1,Rd6,Nxe4,dxe4,Qxe4,Bxg2,Kxg2,Rg6+,Ng5,Rxg5+,Kf1,Qh3+,Ke1,Rd8,Rxc6+,Kb8,Rxb6', 'Rg1+,Bf1,Qxf1#', 'https://lichess.org/training/4onpW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4oNws', 'Rapid', 'Matoz', 2066, 'yash1306', 1869, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,O-O,O-O-O,Nbd7,g4,Rb8,Rg1,b5,Bxf6,Nxf6,g5,Nd7,f5,exf5,exf5,Ne5,Qg3,Re8,f6,Bf8,Nd5,Bb7,fxg7,Bxg7,Nf6+,Kh8,Qh4,Bxf6,gxf6,Rg8,Bh3,Ng6,Qg5,Ne5,Qh6,Be4,Bf5,Bxf5,Nxf5,Rg6,Qg7+,Rxg7', 'fxg7+,Kg8,Nh6#', 'https://lichess.org/training/4oNws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ot2g', 'Bullet', 'AlexSuh', 1856, 'kipec', 1839, 'e4,e5,Bc4,d6,d3,Nf6,h3,g6,f4,exf4,Bxf4,Bg7,c3,O-O,Nf3,h6,O-O,c6,Qc1,Kh7,Nh2,b5,Bb3,a5,Nd2,Nh5,Be3,Nf6,Bd1,Bb7,Ndf3,Nbd7,Qd2,Nc5,Bxc5,dxc5,Be2,b4,c4,Bc8,b3,Be6,Ne5,Qc7,Nhg4,Nxg4,Nxg4,Bxa1,Rxa1,Rad8', 'Qxh6+,Kg8,Nf6#', 'https://lichess.org/training/4ot2g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4otmR', 'Classical', 'Sortune', 1679, 'EdHill', 1622, 'c4,Nf6,g3,e6,Bg2,c6,Nf3,d5,cxd5,exd5,O-O,Be7,b3,O-O,Bb2,Bd7,d3,Na6,Nbd2,Nc5,Ne5,Re8,Nxd7,Qxd7,f4,Qg4,Nf3,Ncd7,Ne5,Nxe5,Bxe5,Nd7,Bb2,Bf6,Bf3,Qf5,Qc2,Bxb2,Qxb2,Qf6,Qd2,Qd4+,Kg2,Nf6,Rae1,Re3,Rd1,Rae8,Qe1,Qb2,Qd2', 'Rxe2+,Bxe2,Rxe2+,Rf2,Rxd2', 'https://lichess.org/training/4otmR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ovTG', 'Rapid', 'stipeleko', 1926, 'StGr', 1960, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bd3,Bxd3,Qxd3,Qa5+,Bd2,Qa6,Qf3,e6,Ne2,Nd7,Nbc3,c5,dxc5,Bxc5,Be3,Nxe5,Qg3,Bxe3,fxe3,Ng6,Nf4,O-O-O,Nxg6,fxg6,Qxg6,Nf6,Qxg7,Ng4,Qd4,e5,Qc5+,Kb8,Nxd5,Rc8,Qa3,Qc4,Qd6+,Ka8,Nc3,Nxe3,Qd2,Nf5,O-O-O,Nd4,Qd3,Qe6,Rde1,Rhd8,Qe4,Qa6,Qxe5,Rxc3,bxc3,Qa3+,Kb1,Qxc3,Qe4,Qb4+,Kc1,Qa3+,Kd2,Nf3+,Ke2,Nxe1,Rxe1,Qxa2,Kf2,Qf7+,Kg1,a6,Rf1,Qd7,Ra1,Qd4+,Qxd4,Rxd4,g3,Rc4,Ra2,Rc3,Kg2,Ka7,Ra5,b5,Ra2,b4,g4,hxg4,h5,Kb6,Ra4,Kb5,Ra2,a5,Ra1,Rxc2+,Kg3,Rc4,h6,Rc7,Kxg4,b3,Kg5,b2,Rb1,Rc2,h7,Rh2', 'Rxb2+,Rxb2,h8=Q', 'https://lichess.org/training/4ovTG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4oVVB', 'Rapid', 'JardaHorny', 1945, 'fuzzmaster', 1908, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,h3,Nc6,Nb3,Bd7,Be3,Na5,Nxa5,Qxa5,Bb3,Bc6,f3,Nh5,Nd5,Rfe8,c3,Rad8,Qd2,e6,Nf4,Nxf4,Bxf4,d5,exd5,Bxd5,Bxd5,Rxd5,Qc2,Red8,Rad1,Rxd1,Rxd1,Rd5,Rxd5,Qxd5,Qa4,Bf8,Qxa7', 'Bc5+,Qxc5,Qxc5+', 'https://lichess.org/training/4oVVB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4OxrM', 'Rapid', 'AgustinLepre', 1614, 'Vic007', 1621, 'e4,e5,Bc4,Nf6,d4,exd4,e5,Bb4+,c3,dxc3,bxc3,Qe7,cxb4,Qxe5+,Qe2,Ne4,Bb2,Qf4,Nh3,Qh4,O-O,O-O,Bd5,Nf6,Bxf6,Qxf6,Nd2,c6,Bf3,d5,Bg4,Nd7,f4,a5,b5,b6,bxc6,Ba6,Qf2,Bxf1,Qxf1,Qxc6,Rc1,Qa4,Bxd7,Qxd7,f5,Qa4,f6,Qxa2,Qf4,Qb2,Rf1,gxf6,Qh6,Qd4+,Kh1,Qg4,Rf4,Qg6,Rxf6,Qxh6,Rxh6,f6,Rh5,f5,Ng5,Rfe8,g3,Kg7,Rxh7+,Kg6,h4,Re3,Ndf3,Rc8,Kg2,Re2+,Kh3,Rc1', 'h5+,Kf6,Rf7#', 'https://lichess.org/training/4OxrM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4oyvt', 'Rapid', 'HeinzeP', 1662, 'DerKernPhysiker', 1669, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bb4+,c3,dxc3,O-O,cxb2,Bxb2,Nf6,e5,Ne4,a3,Ba5,Qd5,Qe7,Qxe4,d6,e6,Bxe6,Bxg7,Rg8,Bxe6,Qxe6,Qxe6+,fxe6,Bf6,Rf8,Bh4,Rf4,Bg3,Ra4,Bh4,Nd4,Ra2,Nxf3+,gxf3,Rxh4,Nd2,Ke7,Kh1,Rg8,Rg1,Rf8,Rg3,Rhf4,Kg2,c5,Ne4,c4,Re2,Rc8,Rg7+,Rf7', 'Rxf7+,Kxf7,Nxd6+,Kf6,Nxc8', 'https://lichess.org/training/4oyvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4p2Gt', 'Rapid', 'dusanbeograd', 2097, 'S2626', 2248, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Be3,Qa5,Qc2,Nc6,Rd1,Bg4,Be2,Bxf3,Bxf3,cxd4,Bd2,dxc3,Be3,O-O,O-O,Ne5,Be2,Rfd8,Rb1,Qc7,Rfc1,b6,f4,Nc4,Bxc4,Qxc4,e5,Rd3,Bf2,Rad8,g3,Rd2,Qb3,Qxb3,axb3,c2,Ra1,Rd1+,Kg2,e6,Be3,R8d7,Kf2,Bf8,Ke2,Rxc1,Rxc1,Rc7,Kd3,Bb4,Rxc2,Rxc2,Kxc2,Kf8,Kd3,Ke7,Kc4,Ba3,Kb5,Kd7,Ka6,Kc6,Kxa7,Bc5,Bxc5,bxc5,Ka6,h6,Ka5,g5', 'fxg5,hxg5,h4', 'https://lichess.org/training/4p2Gt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4P2R0', 'Blitz', 'on3Way', 1707, 'Adriansantana', 1690, 'b3,e5,Bb2,Nc6,Nf3,d6,e3,Bf5,Be2,Nf6,d4,e4,Nfd2,d5,c4,b6,cxd5,Nxd5,Nc3,Nxc3,Bxc3,Bb4,Bxb4,Nxb4,Bg4,Qd7,Bxf5,Qxf5,O-O,Nd3,g4,Qe6,f4,g6,g5,h6,Qc2,Qg4+,Kh1,hxg5,Nxe4,O-O-O,Qxd3', 'Rxh2+,Kxh2,Rh8#', 'https://lichess.org/training/4P2R0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4p5pO', 'Rapid', 'revoluteme', 1641, 'M_a_r_c', 1660, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,Nc3,Nf6,Nf3,g6,Be3,Bg7,Bd3,O-O,O-O,a6,Qd2,Nb4,a3,Nxd3,Qxd3,b5,Rac1,Bb7,Rfd1,Rc8,e5,Nd5,Nxd5,Bxd5,exd6,Bxf3,dxe7,Qxe7,gxf3,Rxc1,Rxc1,Rd8,Qd2,Qd7,Qa5,Qd6,Rc7,Bxd4,Bxd4,Qxd4,Qxa6,Qd1+,Kg2,Rd5,Qc8+,Kg7,Qg4,Qd2,Qe4', 'Rg5+,Kf1,Qd1+', 'https://lichess.org/training/4p5pO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4P9I8', 'Rapid', 'antonioestevez', 2062, 'zemunac', 1810, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,d4,exd4,Re1,d5,Nxd4,Bc5,Nxc6,Bxf2+,Kf1,bxc6,Bxc6+,Bd7,Rxe4+,dxe4,Bxa8', 'Bb5+,Kxf2,Qxd1', 'https://lichess.org/training/4P9I8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4paKz', 'Classical', 'redsnapper1', 1675, 'sbobbone', 1901, 'e4,c5,Nf3,d6,h3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,e6,c4,Be7,Bg5,h6,Bh4,Nd7,Bg3,Bf6,Qc2,Ne5,Bxe5,Bxe5,Nc3,O-O,O-O-O,Rb8,g3,Qf6,f4,Bxc3,Qxc3,Qxc3+,bxc3,c5,Rh2,Rb6,Rb2,Ba6,Rxb6,axb6,Kd2,Rb8,Rb1,Bc8,g4,g6,a4,Rb7,Rb5,Bd7,Rb2,Bxa4,Ra2,Bc6,Ra8+,Kg7,Rd8,Bd7,h4,h5,g5,f6,Ke3,f5,e5,dxe5,fxe5,Kf7,Be2,b5,cxb5,Bxb5,Rh8,Bd7,Rh7+,Kg8,Re7,Kf8,Rh7,Bc6,Rxb7,Bxb7,c4,Ke7,Kf4,Kd8,Bd1,Kc7', 'Bxh5,gxh5,g6', 'https://lichess.org/training/4paKz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4pbpJ', 'Rapid', 'Ajxmenez', 1720, 'robertcastel', 1732, 'e4,d5,Nf3,dxe4,Ng5,Bf5,d3,exd3,Bxd3,Bxd3,cxd3,e5,O-O,h6,Nf3,Nc6,Re1,f6,d4,Bd6,dxe5,fxe5,Nd4,Nxd4,Qxd4,Qe7,Qd1,O-O-O,Nc3,e4,Qg4+,Kb8,Rxe4,Qf6,Be3,h5,Qe2,h4,h3,Ne7,Rd1,Nf5,Bf4,Bxf4,Nd5,Qd6,Rxf4,Ne7,Qxe7', 'Qxe7,Nxe7,Rxd1+', 'https://lichess.org/training/4pbpJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4PEbL', 'Blitz', 'Pitty11', 1945, 'Amirhossein2021', 2008, 'd4,e5,Nf3,f6,dxe5,fxe5,Nxe5,Nf6,Nf3,Bc5,c3,d5,h3,Ne4,e3,O-O,Bd3,Bf5,Qc2,c6,O-O,Nd7,b4,Bd6,Nbd2,Qf6,Bb2,Qg6,Kh1,Nxd2,Qxd2,Bxd3,Rg1,Be4,Nd4,Qh5,a3,Qe5,f4,Qh5,Raf1,Nf6,Ne2,Qh4,c4,Qg3,Qc3,Nh5', 'Nxg3,Nxg3+,Kh2,Nxf1+,Rxf1', 'https://lichess.org/training/4PEbL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4pEsd', 'Rapid', 'epha', 1648, 'ba1616', 1790, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,Bb5,Bd7,O-O,a6,Ba4,b5,Bc2,Qc7,d4,cxd4,cxd4,Nge7,Bf4,Nf5,Be3,Be7,Bxf5,exf5,Nc3,Be6,Rc1,Qb7,Bg5,O-O,Bxe7,Qxe7,a3,h6,h3,Rac8,Ne2,Na5,Nc3,Nc4,Qe2,b4,Na4,bxa3,bxa3,Nxa3,Rxc8,Rxc8,Nc5,Qa7,Ra1,Nc4,Rxa6,Qe7,Nd2,Nxd2,Qxd2,Rb8,Qc2,Qh4,Nxe6,fxe6,Rxe6,Qxd4,Qxf5,Rf8,Qc2,Qa7,Rd6', 'Qa1+,Kh2,Qxe5+', 'https://lichess.org/training/4pEsd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Pf1X', 'Blitz', 'FM whiteagle60', 2372, 'IngLandero', 2200, 'Nf3,Nf6,b3,g6,Bb2,Bg7,g3,d5,c4,c6,Bg2,dxc4,bxc4,Qb6,Qc2,O-O,Nc3,Nbd7,O-O,e5,d3,h6,Rab1,Qc7,Nd2,Re8,Ba1,Nc5,Nce4,Nfxe4,Nxe4,Nxe4,Bxe4,Bh3,Bg2,Bxg2,Kxg2,Rad8,Qb3,b6,Bc3,e4,Bxg7,Kxg7,Qb2+,Qe5,Rfd1,exd3,exd3,Rd4', 'Re1,c5,Rxe5', 'https://lichess.org/training/4Pf1X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4PhCL', 'Rapid', 'healthypawnup', 2012, 'chefcurry30', 1967, 'd4,d5,c4,c6,Nf3,Nf6,e3,e6,b3,Bb4+,Nbd2,O-O,Bd3,Ne4,O-O,f5,Ne5,Nd7,Nxd7,Bxd7,Nf3,Bd6,Bb2,f4,Qc2,Nf6,Ne5,fxe3,fxe3,Bxe5,dxe5,Ng4,Bxh7+,Kh8,Rxf8+,Qxf8,Rf1', 'Qxf1+,Kxf1,Nxe3+,Ke1,Nxc2+', 'https://lichess.org/training/4PhCL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4pMfC', 'Blitz', 'martmac', 2151, 'HangingPawnVN900C', 2120, 'c4,e6,g3,d5,cxd5,exd5,Bg2,Nf6,Nf3,c6,d4,Bf5,O-O,h6,Nc3,Bd6,Bf4,Bxf4,gxf4,Ne4,e3,Nd7,Kh1,Nxc3,bxc3,Be4,Rg1,g5,fxg5,hxg5,Ne5,Bxg2+,Rxg2,f6,Nd3,Qc7,Qg4,O-O-O,Nc5,Rh4,Qf5,Rdh8,Nxd7', 'Rxh2+,Kg1,Rh1#', 'https://lichess.org/training/4pMfC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4pMka', 'Blitz', 'Petermergelsberg', 1805, 'Chriske1995', 1717, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,g6,Bc4,Bg7,d3,Nge7,O-O,O-O,Ne2,a6,c3,b5,Bb3,Bb7,Bd2,d6,Qe1,Qb6,Kh1,c4,Bc2,cxd3,Bxd3,Qc7,Qh4,d5,f5,exf5,exf5,Ne5,Bf4,Nxf3,Rxf3,Qb6,Qxe7,Rae8,Qh4,d4,Rh3,h5,Ng3,dxc3,Nxh5,Bxg2+,Kxg2,Qc6+,Kg3,gxh5,Qxh5,f6,Qh7+,Kf7,Qg6+,Kg8,Rh7,Re7,Bh6,Qd6+,Kg4,Qd4+,Kh5,Qxd3', 'Rxg7+,Rxg7,Qxg7#', 'https://lichess.org/training/4pMka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4pMYL', 'Rapid', 'Runaremb', 1830, 'emha', 1894, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,Be7,Bb5,d6,O-O,Nf6,Bxc6+,bxc6,d3,O-O,Qe1,Nd7,Ng5,h6,Nf3,Bf6,e5,Be7,exd6,Bxd6,Ne5,Bxe5,fxe5,c4,Qg3,Kh7,Ne4,f5,exf6,Nxf6,Qf3,cxd3,cxd3,Bd7,Nxf6+,Rxf6,Qe4+,Kh8,Rxf6,Qxf6,Rb1,Rf8,Be3,e5,d4', 'Bf5,Rf1,Bxe4', 'https://lichess.org/training/4pMYL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4PoC5', 'Classical', 'miladmastering', 2073, 'USSR-REDARMY', 1990, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,e6,Re1,Bd6,c3,O-O,Nbd2,b5,Nf1,a5,a3,b4,Bd2,Ne4,Ng3,Nxd2,Qxd2,Qb6,h4,Rfc8,h5,h6,Ne5,Nxe5,dxe5,Bc5,Nf1,Ra7,Ne3,Rac7,Ng4,bxc3,bxc3,Qb3,Rad1,Bxa3,Qf4,Qxc3,Re3,Qb4,Nxh6+,gxh6,Rg3+,Kf8,Qxh6+,Ke8,Qf6,Re7,Rdd3,Bb2,f4,Qe1+,Kh2,Kd7,Rb3,Qc1,Rg7,Qd1', 'Rb7+,Kc6,Qxe7', 'https://lichess.org/training/4PoC5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4PqtE', 'Blitz', 'aurelien_68', 1706, 'FM Sergejs_Klimakovs', 2430, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qd2,Qb6,O-O-O,Nc6,Nxc6,bxc6,e5,dxe5,Be3,Qc7,Na4,Be7,Nc5,O-O,Bd3,Nd5,Nb3,a5,a4,Bb4,c3,Be7,Bc5,Rb8,Bxe7,Qxe7,Na1,Rd8,Nc2,Nf4', 'Bxh7+,Kxh7,Qxd8,Ne2+,Kb1', 'https://lichess.org/training/4PqtE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4PQvo', 'Rapid', 'RodrigoBispo', 1736, 'hellaspartisano', 1817, 'e4,c5,Nf3,Nc6,c3,g6,Bc4,e6,O-O,d5,Bb5,a6,Bxc6+,bxc6,exd5,cxd5,d4,cxd4,Nxd4,Bg7,Nd2,Ne7,N2f3,O-O,Bg5,Bb7,Re1,h6,Bh4,g5,Bg3,Nf5,Nxf5,exf5,Qd3', 'f4,Bxf4,gxf4', 'https://lichess.org/training/4PQvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4PRvU', 'Blitz', 'Andersson_Student', 2221, 'FM Jactorres', 2486, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,d5,cxd5,exd5,Bg5,O-O,e3,c5,dxc5,Nc6,Nf3,h6,Bh4,g5,Bg3,Ne4,Bd3,Qa5,Rc1,Bf5,O-O,Bxc3,bxc3,Qxc5,Nd4,Bg6,Nxc6,bxc6,c4,Rad8,cxd5,Qxc2,Rxc2', 'Nxg3,Bxg6,Nxf1', 'https://lichess.org/training/4PRvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4psxn', 'Blitz', 'fofina', 1720, 'andrmy', 1703, 'd4,c5,d5,d6,c4,Bf5,Nc3,Na6,e4,Bg6,f4,h6,Nf3,Nf6,Bd3,Nb4,Bb1,a5,a3,Na6,O-O,Nxe4,Bxe4,Qd7,Bxg6,fxg6,Qd3,O-O-O,Nb5,Qf5,Qxf5+,gxf5,Nh4,g5,Nxf5,gxf4,Bxf4,h5,Bg5,Rd7,Rae1,Rg8,Bh4,Rg4,h3,Rxc4,Nxe7+,Kb8,Ng6,Bg7,Re7,Rxe7,Nxe7,b6,Nxd6,Be5,Ndf5,Bxb2,Rb1,Be5,Rxb6+,Ka7,Re6,Bd4+,Bf2,Rc1+,Kh2,Bxf2,d6,Rd1,Nc6+,Kb6,Nce7,Rd3,Rh6,h4,d7+,Kc7,Rxa6', 'Bg3+,Nxg3,hxg3+,Kg1,Rd1#', 'https://lichess.org/training/4psxn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4pTVX', 'Rapid', 'sajtpofa', 1835, 'Rajendra_Singh', 1758, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d5,exd5,Nxd5,O-O,O-O,Re1,Nf4,Qb3,Nxd4,Nxd4,Qxd4,Bxf7+,Kh8,Nf3,Qf6,Bc4,Qg6,Nh4,Qg4,Qg3,Qh5,Re7,Qh6,Rae1,c6,Re8,Bd7,Rxa8,Rxa8,Nf3,Re8,Ne5,Qf6,Qe3,Nd5,Bxd5,cxd5,f4,Bc6,b4,a6,Qg3,Kg8,Ng4,Qd4+,Kh1,Qxb4', 'Nf6+,Kf7,Nxe8', 'https://lichess.org/training/4pTVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4PvcS', 'Rapid', 'Eismann1949', 1743, 'Theguywithglasses', 1732, 'e4,e5,Nf3,Nc6,c3,Bc5,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d5,e5,Bg4,Bb5,Ne7,O-O,a6,Ba4,b5,Bc2,Nxd4,Rc1,Bxf3,Nxf3,Nxc2,Rxc2,O-O,Re1,c6,Rc5,Qa5,a3,Rac8,Qc2,Qb6,Rc1,Rfe8,Ng5,Ng6,h4,h6,Nf3,Re6,Nd4,Rxe5,Nxc6,Kh7', 'Nxe5,Qxc5,Qxc5,Rxc5,Rxc5', 'https://lichess.org/training/4PvcS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4pxDA', 'Rapid', 'Ego1980', 1948, 'torosentado', 1847, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,Bg4,Bb5,a6,Be2,e6,h3,Bxf3,Bxf3,Be7,O-O,Nf6,Re1,O-O,Qc2,e5,d5,Nd4,Qd1,Nxf3+,Qxf3,Nd7,b4,Qb6,a3,a5,Be3,Qb5,Nc3,Qa6', 'b5,Qb6,Bxb6', 'https://lichess.org/training/4pxDA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4pyR9', 'Blitz', 'FM Schlumpfine', 2394, 'tsakona_maria', 2237, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bd3,Bxd3,Qxd3,e6,Bg5,Qa5+,Nd2,Qa6,c4,Ne7,Ngf3,Nf5,O-O,Nd7,b3,Be7,a4,O-O,Bxe7,Nxe7,a5,dxc4,Nxc4,Nd5,Ng5,g6,Nxe6,fxe6,Qxg6+,Kh8,Qh6+,Kg8,Qxe6+,Rf7,f4,Nf8,Qh6,c5,Nd6,Rh7,Qg5+,Rg7,Qxh5,Ne3,Rf2,Qc6,Qe2,cxd4,Ra2,Qc1+,Kh2,Ng4+,Kg3,Nxf2+,Kxf2,Ne6,g3,Qe3+,Qxe3,dxe3+,Kf3,Nd4+,Kxe3,Nxb3,Kf2,Rc7,h5,b6,axb6,Rd7,b7,Rb8,Rxa7,Nc5,Ra1,Nxb7,Rb1,Kg7,g4,Nxd6,Rxb8,Ne4+,Ke3,Nc5,Rc8,Ne6,Rc6,Re7,Rxe6,Rxe6,Ke4,Re7,f5,Re8,e6,Kf6', 'Kf4,Ra8,g5+', 'https://lichess.org/training/4pyR9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4PYsK', 'Rapid', 'Manvel1', 1860, 'ligur607', 1727, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Be2,Be7,Bg5,h6,Bh4,O-O,Nbd2,Bg4,c3,Nbd7,h3,Be6,g4,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Nd2,Bd5,c4,e3,cxd5,Qh4,Ne4,exf2+,Nxf2,Rfe8,Rf1,Nf6,Kd2,Nxd5,Bc4,Qg5+,Kd3,Ne3,Bxf7+,Kxf7,Ne4+,Kg8,Nxg5,Nxd1,Raxd1,hxg5,Rf5,Rad8,Rxg5,b6,b4,Rf8,Re1,Rf3+,Re3,Rf4,Re4,Rf3+,Kc4,Rxh3,a4,Ra3,Re7,Rxa4,Rexg7+,Kf8,Rxc7,a6,Kb3,Ra1,d5,Rd1,Kc4', 'Rc1+,Kd4,Rxc7', 'https://lichess.org/training/4PYsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4PZKy', 'Blitz', 'teno', 1506, 'pandaamonium', 1612, 'd4,d5,Bf4,Nf6,e3,Bf5,Bd3,e6,Bxf5,exf5,Ne2,Bd6,Nd2,O-O,Nf3,Nc6,c3,a5,Ne5,Re8,O-O,Bxe5,dxe5,Nxe5,Nd4,Qd7,Qc2,g6,Rad1,c6,f3,Nh5,Bg5,Kg7,f4,f6,fxe5,fxg5,Nf3,g4,e6,Rxe6,Ng5,Rxe3,Qd2,Rae8,Rde1,Rxe1,Rxe1,Rxe1+,Qxe1,Nf6,Qe5,Qe8,Ne6+,Kf7,Ng5+,Kg7,Ne6+,Kf7,Ng5+,Kg7,Qc7+,Qd7,Ne6+,Kh6', 'Qf4+,Kh5,Qg5#', 'https://lichess.org/training/4PZKy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Q1yy', 'Rapid', 'IvanMansilla12', 1653, 'DelSquared', 1649, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,h6,Bf4,dxc4,a4,Bd6,Bxd6,Qxd6,e4,Nbd7', 'e5,Qb4,exf6', 'https://lichess.org/training/4Q1yy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Q2Mj', 'Rapid', 'Ikllu', 1859, 'Eni_Oro', 1725, 'b4,e6,Bb2,Nf6,a3,b5,e3,a6,Nf3,c5,bxc5,Bxc5,Bxf6,Qxf6,d4,Bb6,Nbd2,d5,Bd3,Bb7,O-O,Nd7,Qb1,O-O,a4,Bc6,axb5,axb5,Bxb5', 'Rxa1,Qxa1,Bxb5', 'https://lichess.org/training/4Q2Mj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4q5Be', 'Rapid', 'earlpmendez', 1750, 'dhwti', 1646, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nc3,Bb4,Nf3,Nge7,Bd3,O-O,O-O,d5,e5,Re8,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,f6,Qh7+,Kf8,exf6,gxf6,Nxe6+,Bxe6', 'Bh6#', 'https://lichess.org/training/4q5Be');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4q8zV', 'Rapid', 'lirael98', 1913, 'GroovyJeff1087', 1873, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,e5,Nf5,Bxf5,exf5,Be7,Bc4,O-O,Nd5,Nxd5,Bxd5,Nb4,Bxb7,Rb8,Be4,d5,Bf3,e4,Bg4,d4,Bf4,Rc8,f6,Nxc2+,Kf1,Nxa1,Bxc8,Qxc8,fxe7,Re8,Qxa1,Rxe7,g3,Qc6,Ke2,d3+,Kd2,Qc2+,Ke3,Qe2+,Kd4,Rd7+,Kc3,Qc2+,Kb4,Rb7+,Ka3', 'Qc5+,b4,Qxb4#', 'https://lichess.org/training/4q8zV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4QAA4', 'Classical', 'S7A7L7A7HHHHHH', 1928, 'avesol', 2103, 'e4,c5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Nf6,Re1,e5,d3,Be7,Nbd2,O-O,Nf1,Bg4,h3,Bh5,Ng3,Bg6,b3,Qc7,Bb2,Rfe8,Nh4,Nd7,Nxg6,hxg6,Nf1,Bf6,Rb1,d5,Ne3,Qd6,Qf3,Nb6,Rbd1,d4,Ng4,a5,a4,Nd7,Ba3,Nf8,Nxf6+,gxf6,h4,Ne6,g3,Kg7,Kg2,Rh8,Rh1,Rh7,Rh2,Rah8,Rdh1,Nc7,Bc1,Na6,Bd2,Nb4,Bxb4,cxb4,h5,Rxh5,Rxh5,Rxh5,Rxh5,gxh5,Qxh5,Qc5,Qg4+,Kf8,Qc8+,Kg7,Qg4+,Kf8,Qd1,Ke7,Kh3,Qd6,Kg2,Qe6,Qh5,Qc8,f4,exf4,gxf4,c5,Kf2,Qc7,Kf3,Qd6,Qf5,Kd8,Qd5,Qxd5', 'exd5,f5,Kg3,Ke7,Kh4', 'https://lichess.org/training/4QAA4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4QaIK', 'Blitz', 'Rimeda', 2262, 'IM MihaiG', 2418, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Nf3,Nc6,c4,Qc5,d4,Qb4+,Qd2,Qxd2+,Bxd2,Bg4,d5,Bxf3,gxf3,Nd4,O-O-O,e5,f4,Bd6,Bc3,Nf3,Bg2,e4,Bxf3,Bxf4+,Kc2,exf3,Rhe1+,Kd7,Re4,Bd6,b4,f6,c5,Bxh2,Rde1,Rhe8', 'c6+,bxc6,dxc6+,Kxc6,Rxe8,Rxe8,Rxe8', 'https://lichess.org/training/4QaIK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4QBWV', 'Rapid', 'Warakuda', 1792, 'pesango', 1719, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Bg5,Bb4,Nf3,O-O,a3,Bxc3+,bxc3,h6,Bh4,g5,Bg3,Nbd7,Ne5,Nxe5,Bxe5,Ne4,Qh5,Kh7,Rc1,Qa5,Bd3,Qxa3,O-O,f6,Bxe4+,dxe4,Bg3,Qe7,d5,exd5,cxd5,Bf5,d6,Qe6,Qd1,Rad8,Qd4,a6,Rfd1,Rd7,c4,Bg6,c5,f5,Be5,f4,Qc3,Rf5,Bd4,Bh5,Re1,Rd5,Rb1,f3,gxf3,Bxf3,Qxf3,Rxd4,Qc3,Rd3', 'Qxd3,exd3,Rxe6', 'https://lichess.org/training/4QBWV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4qe1d', 'Bullet', 'Efyr', 1597, 'Paucaga', 1702, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Be2,Nc6,c3,Qd7,h3,Bf5,Bf4,f6,O-O,Bd6,Bxd6,Qxd6,Bb5,O-O-O,Nbd2,g5,Nb3,h5,Qd2,Nge7,Nc5,g4,hxg4,hxg4,Bxc6,bxc6,Qe2,gxf3', 'Qa6+,Kb8,Qb7#', 'https://lichess.org/training/4qe1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4qgUh', 'Rapid', 'Kombinezon_ER', 2199, 'ChessPlayer_AZE', 1876, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be6,e3,Nc6,Nf3,h6,Bh4,Be7,Bd3,Ne4,Bxe7,Nxc3,bxc3,Qxe7,O-O,g5,Rb1,g4,Nd2,O-O-O,Nb3,b6,Ba6+,Kb8,Nc5,Bc8,Qa4,Rd6,Bxc8,Kxc8,Qa6+,Kd8,Nb7+,Kd7,Nxd6,Qxd6,c4,h5,Qb5,a6,Qxd5,Qxd5,cxd5,Ne7,e4,f5,f3,Kd6,Rbc1,Rc8,Kf2,h4,Ke3,Re8,Kf4,Rf8,Kg5,h3,fxg4,Rg8+,Kh4,hxg2,Rf4', 'Ng6+,Kg3,Nxf4,Kxf4,Rxg4+', 'https://lichess.org/training/4qgUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4qhH5', 'Bullet', 'gillesmm', 1737, 'GrayKing2019', 1714, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bc4,e6,Nf3,Ngf6,Neg5,Be7,Qe2,Nb6,Nxf7,Kxf7,Ng5+,Kg8,Nxe6,Bxe6', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/4qhH5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Qkoc', 'Rapid', 'DadSandals', 1750, 'deepdiver64', 1715, 'e4,c5,Nf3,Nc6,d4,e5,dxc5,Bxc5,Nc3,Nf6,Bc4,d6,Nd5,Nxd5,Qxd5,Be6,Qd3,O-O,Bxe6,fxe6,Be3,Qa5+,c3,Rad8,O-O,Qc7,Qe2,Qf7,Rad1,Bb6,Bxb6,axb6,Qb5,Nb8,Qxb6,Qg6,Rxd6,Nd7,Rxe6', 'Nxb6,Rxg6,hxg6', 'https://lichess.org/training/4Qkoc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4qmzd', 'Rapid', 'frankmoles', 1814, 'VladimirGoncharuk', 1801, 'Nf3,Nc6,g3,b6,Bg2,Bb7,O-O,d5,d3,e5,Nbd2,Bd6,e4,d4,Nc4,Nge7,Nxd6+,Qxd6,c3,Ng6,Bg5,f6,Bc1,O-O,Nh4,Nxh4,gxh4,Ne7,Qg4,Kh8,Bh3,Bc8,Qg3,Bxh3,Qxh3,c5,f4,Nc6,Bd2,Rad8,h5,dxc3,bxc3,Qxd3,Qxd3,Rxd3,Rad1,Rfd8,Rf2,Na5,fxe5,Nc4,e6,Rxd2,Rfxd2,Rxd2', 'Rxd2,Nxd2,e7', 'https://lichess.org/training/4qmzd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4qNFO', 'Rapid', 'avatar71', 1902, 'alwam85', 1681, 'd4,h6,b3,e6,Bb2,Nc6,e4,Bb4+,c3,Ba5,a4,a6,b4,Bb6,b5,axb5,Bxb5,Na5,Nf3,f6,O-O,c6,Bd3,d5,e5,f5,Ba3,Nb3,Qxb3,g5,Bd6,g4,Nfd2,h5,f3,Bc7,Bxc7,Qxc7,fxg4,hxg4,Qb4,Qh7,h3,gxh3,g3,h2+,Kh1,Qh3,Rf3', 'Qg2+,Kxg2,h1=Q+,Kf2,Rh2+', 'https://lichess.org/training/4qNFO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4qOur', 'Rapid', 'bodhiharma', 1779, 'Aflatoxin', 1777, 'd4,Nf6,Bf4,d6,Nf3,e6,e3,Be7,c4,O-O,Nc3,Re8,Qc2,Nc6,a3,a5,Bd3,h6,Rd1,Bf8,d5,exd5,Nxd5,Nxd5,cxd5,Ne5,Nxe5,dxe5,Bg3,Bd6,O-O,Bg4,f3,Bh5,Bb5,Rf8,Rc1,f5,Qc4,f4,exf4,exf4,Bf2,Qg5,Kh1,Rf5,Qd3,Kh8,Rcd1,Bg6,Qd2,Qh5,Bd7,Rg5,Bg4,Rxg4,fxg4,Qxg4,Bd4,Be4,Bxg7+,Kxg7,Qd4+,Kf8,Qxe4,Re8,Qf3,Qg5,Rfe1,Re5,Rxe5,Qxe5,Qf2,Kg7,g3,Kh8,Qxf4,Qe2,Qd4+,Kh7,Qg1', 'Qf3+,Qg2,Qxd1+', 'https://lichess.org/training/4qOur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4qtb2', 'Blitz', 'svTomas', 1773, 'Petrus2', 1750, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,Ndb5,Qb8,g3,a6,Bf4,e5,Be3,axb5,Bxb5,Bb4,Bb6,Nge7,O-O,O-O,Ne2,d6,f4,Bc5+,Bxc5,dxc5,f5,Nd4,Nxd4,cxd4,Qh5,f6,Bc4+,Kh8,g4,Bd7,Rf3,Qe8', 'Qxh7+,Kxh7,Rh3+,Qh5,Rxh5#', 'https://lichess.org/training/4qtb2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4qWba', 'Rapid', 'dimehola', 1633, 'nack', 1603, 'e4,c5,Nf3,d6,Bc4,e6,O-O,a6,a3,b5,Ba2,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,Bb7,Be3,Nf6,Nc3,e5,Qd3,Be7,Nd5,O-O,Nxe7+,Qxe7,Bg5,h6,Bxf6,Qxf6,f3,Rac8,Rf2,Rc7,Raf1,Rfc8,Bb1,Qe6,f4,Qc4,Qg3,Bxe4,fxe5,dxe5,Qxe5,Bg6,b3,Qc5,Qf4,Qxa3,c4,Qxb3,Bxg6,fxg6,cxb5,axb5,Qd6,Qe3,Kh1,Qe7,Qd5+,Kh7,Qxb5,Rc1,Qb2,Rxf1+,Rxf1,Re8,Qd2,Qe3,Qxe3,Rxe3,h3,h5,Rf8,g5,Kg1,Kg6,Kf2,Re6,Rd8,Kf5,Kf3,g6,g3,Ke5,g4,Rf6+,Kg3,Ke4,Re8+,Kd5,gxh5,gxh5,Rh8,h4+,Kg4,Rg6,Kf5,Re6,Rh5,Re5+,Kg4,Re4+,Kxg5,Re5+', 'Kxh4,Kd4,Rxe5,Kxe5,Kg5', 'https://lichess.org/training/4qWba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4QxVS', 'Blitz', 'Uragankuznetsov', 1753, 'yash2981', 1812, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bd3,Ng6,O-O,Bd7,Be3,Be7,dxc5,Ncxe5,Nxe5,Nxe5,Be2,Bg5,Qd2,Bxe3,Qxe3,Ng6,Nd2,O-O,Nf3,Bc6,b4,a6,Nd4,e5,Nxc6,bxc6,Rad1,f5,a4,Qf6,b5,f4,Qh3,e4,b6,Ne5,f3,e3,a5,g5,Rb1,Nc4,Bxc4,dxc4,Qd7,Qxc3,Qxc6,e2,Rfe1,Qe3+,Kh1,Rad8,Qh6,c3,Qxg5+,Kh8,c6,c2,Ra1,c1=Q,Rexc1', 'Qxc1+,Rxc1,Rd1+,Rxd1,exd1=Q#', 'https://lichess.org/training/4QxVS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4qyR8', 'Rapid', 'vsv51186', 1921, 'Rendi84', 1838, 'e4,b6,d4,Bb7,Bd3,g6,Qe2,Bg7,c3,e6,Nf3,Ne7,Bg5,Nbc6,Qe3,a6,h4,h6,Bf4,d6,Nbd2,Qd7,O-O-O,f5,exf5,gxf5,Rde1,Nd8,h5', 'Nd5,Qe2,Nxf4', 'https://lichess.org/training/4qyR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4qYZA', 'Blitz', 'Pharmaton', 2040, 'legionofboom', 2202, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Re1,e6,c3,Be7,d4,cxd4,cxd4,d5,e5,Ne4,a3,O-O,Qd3,Nb8,Nbd2,Nxd2,Bxd2,Nc6,Re3,Qb6,Bc3,Rac8,h4,Qd8,Ng5,Bxg5,hxg5,Qxg5,Rg3,Qe7,Rh3,h6,Bd2,f5,exf6,Rxf6,Bg5,hxg5,Qh7+,Kf7,Qh5+,g6,Qxg5,Rg8,Rc1,Nxd4,Rh7+,Rg7,Qh6,Nf5,Rxg7+,Nxg7,Rc8,Rf5,Qh8,d4,f4,e5', 'Qg8+,Kf6,Rf8+,Qxf8,Qxf8+', 'https://lichess.org/training/4qYZA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4R20j', 'Rapid', 'JorgeEnriquezRios', 1618, 'Nautilus27', 1626, 'd4,e6,Nf3,d5,Nc3,c5,dxc5,Bxc5,Bg5,Qb6,e3,Qxb2,Na4,Qb4+,c3,Qa5,Rb1,Bd7,Nxc5,Qxc5,Qd4,Qa3', 'Qxg7', 'https://lichess.org/training/4R20j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4R2R9', 'Rapid', 'Checkmate3169', 1797, 'petya33', 1761, 'd4,d5,c4,e6,Nc3,Bb4,Nf3,Nc6,cxd5,exd5,Bg5,f6,Bf4,Be6,e3,a6,Qc2,Nge7,Bd3,Qd7,O-O,Bg4,a3,Bxc3,Qxc3,Bxf3,gxf3,h5,b4,h4,a4,g5,Bxc7,Qxc7,b5,axb5,axb5,Rxa1,Rxa1,Kf7,bxc6,bxc6,e4,Qf4,exd5,cxd5,Re1,Qxf3', 'Bg6+,Kxg6,Qxf3', 'https://lichess.org/training/4R2R9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4rBle', 'Blitz', 'listru', 2457, 'FM niksunstar', 2411, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,d4,cxd4,Bc4,Nb6,Bb3,d6,exd6,Qxd6,Nxd4,Nxd4,cxd4,Bf5,Qf3,e6,Qxb7,Rb8,Qxa7,Be7,O-O,O-O,Be3,Be4,Nc3,Bc6,Qa5,Nd5,Nxd5,Bxd5,Bxd5,exd5,b3,Bf6,Rac1,Rfe8,Rc2,h5,Qc7,Qe6,h3', 'Rbc8,Rfc1,Rxc7', 'https://lichess.org/training/4rBle');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4RC7t', 'Blitz', 'kleiner-feigling', 2089, 'Joaquin_L', 2161, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nh6,Bd3,cxd4,cxd4,Nf5,Bxf5,exf5,O-O,Be6,Nc3,Qd7,Be3,O-O-O,Qa4,Kb8,b4,h6,b5,Ne7,Qa5,Nc8,Na4,b6,Qa6,g5,Rfc1,f4,Bd2,Qb7,Nb2,Be7,Qa4,g4,Ne1,Bg5,Nbd3,f3,Bxg5,hxg5,Nb4,Rd7,Rc3,fxg2,Nxg2,Ne7,Rac1,Bf5,Na6+,Ka8,Rc7,Rxc7,Rxc7,Rc8,Rxb7,Rc1+,Ne1,Rxe1+,Kg2,Kxb7,Qb4', 'Be4+,f3,Bxf3+,Kf2,Re2+', 'https://lichess.org/training/4RC7t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4rDfT', 'Rapid', 'SteelCrocs', 1792, 'Normanruelo', 1831, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,e5,Nb3,Ng4,Bd2,Be7,Be2,Nf6,Be3,Be6,Qd2,a5,a4,O-O,O-O,Ng4,f3,Nxe3,Qxe3,Nb4,Bd3,Nxd3,Qxd3,Bg5,Nd5,f5,Rad1,fxe4,fxe4,Rxf1+,Rxf1,Qd7', 'Nb6,Qd8,Nxa8', 'https://lichess.org/training/4rDfT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4RHAy', 'Rapid', 'RunningChess1', 2003, 'vmileslifestyle', 1890, 'e4,c5,Nf3,Nf6,c3,Nxe4,Qc2,Nf6,d4,cxd4,Nxd4,Nc6,Bb5,e5,Nxc6,dxc6,Bd3,Bd6,O-O,O-O,Bg5,Be7,Bxf6,Bxf6,Bxh7+,Kh8,Bf5,Bxf5,Qxf5,Qb6,b3,c5,Nd2,g6,Qh3+,Kg7,Ne4,Qc6,Rae1,Rad8,Qg3,Rfe8,Qe3,b6,Rd1,Rxd1,Rxd1,Rd8,Rxd8,Bxd8,f3,f5,Nf2,Bf6,Kf1,c4,b4,Qa4,Qd2,a6,Nd1,Qc6,Ne3,b5,Ke2,e4,fxe4,Qxe4,Qd7+,Kh6,Qd6,Bg5,Qd4,Qb1', 'Qh8#', 'https://lichess.org/training/4RHAy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4RhIq', 'Blitz', 'T_Fallen_Azrael', 1616, 'aemming', 1623, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,d6,Bc4,Bd7,O-O,Nc6,Nxc6,Bxc6,f4,Be7,Qg4,Bf6,Rd1,Nh6,Qh3,b5,Bb3,O-O,f5,exf5,Bxh6,gxh6,Qxh6,fxe4,Rf1,Bg7,Qh5,Be8,Nxe4,Kh8,Ng5,Bd4+,Kh1,Qxg5,Qxg5,Rg8,Qe7,Bc6,Rg1,Rae8,Qxd6,Bxg1,Rxg1', 'Bxg2+,Rxg2,Re1+,Rg1,Rexg1#', 'https://lichess.org/training/4RhIq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4RIzy', 'Blitz', 'F6lf', 1595, 'Ahmetoguz', 1541, 'e3,e5,Qh5,Nc6,Bc4,d5,Bb5,Bd7,Bxc6,Bxc6,Qxe5+,Ne7,Nc3,f6,Qh5+,Ng6,d4,Bd6,Bd2,a6,Nxd5,O-O,Nc3,b5,d5,Bb7,Nf3,c5,O-O,b4,Ne2,a5,c3,Be5,Nxe5,fxe5,cxb4,axb4,e4,Qb6,Nc1,c4,Ne2,c3,bxc3,bxc3,Bxc3,Qc5,Rfc1,Qxf2+,Kh1,Nf4,Nxf4,exf4,Qe5,Rf7,Rf1,Qc2,Rxf4,Raf8,Raf1,Qd3,Rxf7', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/4RIzy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4rnh7', 'Classical', 'randchess1056', 1692, 'Christian0156', 1665, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,Bg4,Be2,e6,O-O,c6,Ne5,h5,Nxg4,Nxg4,Bxg4,hxg4,Qxg4,Nd7,Ne2,Nf6,Qf3,Qc7,Bf4,Bd6,Bxd6,Qxd6,h3,O-O-O,a4,g5,Qxf6,g4,Qe5,Qe7,Nf4,gxh3,Nxh3,Rxh3,gxh3,Rg8+,Kh2,f6,Qe3,Qd6+,Kh1,Qd5+,f3,Rg3,Kh2,Qd6,Qh6', 'Rg6+,f4,Rxh6', 'https://lichess.org/training/4rnh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4RolX', 'Rapid', 'Palance', 1901, 'player10102', 1919, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nc6,Bb5,a6,Bxc6+,bxc6,Nge2,Bf5,O-O,e6,Bf4,c5,Ng3,Bg6,Re1,Be7,Nce2,Nf6,c3,cxd4,Nxd4,Qd7,h4,h6,h5,Bh7,Be5,O-O,f4,Bc5,Kh2,Rfc8,Qf3,Qe7,f5,Bxd4,cxd4,Rc2,fxe6,fxe6,Re2,Rxe2,Qxe2,a5,Rc1,Ne4,Rc7,Qh4+,Kg1,Nf6,Bxf6,Qxf6,Qe5,Bd3,Rc6,Qxe5,dxe5,Ra6,Rc8+,Kf7,Kf2,Ra7,Ke3,Bb1,a3,a4,Ne2,Bf5,Kf4,g5+,hxg6+,Kxg6,g4,Bd3,Nc3,h5,gxh5+,Kxh5,Rh8+,Kg6,Rh3,Bf5,Rg3+,Kf7,Nb5,Rd7,Nd6+,Ke7,b3,axb3,Rxb3,Ra7', 'Nc8+,Kf8,Nxa7', 'https://lichess.org/training/4RolX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4RrTI', 'Blitz', 'rinatmozg', 2007, 'Hh_ss', 2008, 'f4,d5,Nf3,Nc6,d4,Bf5,e3,Nf6,Bd3,Bxd3,Qxd3,e6,O-O,Bd6,c4,Nb4,Qb3,dxc4,Qxc4,c6,Bd2,b5,Qc1,Rc8,a3,Na6,Nc3,Nd5,Qe1,Nxc3,Bxc3,O-O,Rc1,Rb8,Ne5,Bxe5,fxe5,Qd5,Qf2,b4,axb4,Nxb4,Bxb4,Rxb4,Rc5,Qa2,Rxc6,Rxb2', 'Qxf7+,Rxf7,Rc8+,Rf8,Rfxf8#', 'https://lichess.org/training/4RrTI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4rSVb', 'Rapid', 'Cusengan', 1832, 'palet_master', 1884, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,e6,f3,Be7,Qd2,O-O,Bc4,a6,O-O-O,Qc7,Bb3,b5,g4,Nd7,Kb1,Nde5,Qg2,b4,Nce2,Bd7,f4,Ng6,h4,Nxh4,Rxh4,Bxh4,Rh1,Be7,Qh3,h6,g5,Kh7,gxh6,g6,Bd2,e5,Qd3,exd4,Nxd4,Nxd4,Qxd4,Rg8,Bxb4,Be6,Bc3,Bf8,Bxe6,fxe6,Qf6,Qe7', 'Qg7+,Rxg7,hxg7+,Kg8,Rh8+,Kf7,g8=Q+', 'https://lichess.org/training/4rSVb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4RswI', 'Rapid', 'vvinar', 1903, 'Crumples', 1903, 'd4,f5,c4,g6,Nc3,c6,e4,e6,exf5,exf5,Nf3,Bg7,h4,h6,h5,g5,Ne5,Qe7,f4,d6,Bd3,dxe5,dxe5,g4,Be3,Be6,Qc2,Nd7,O-O-O,O-O-O,Bxf5,Kb8,Bg6,Bxc4,Qa4,Nb6,Bxb6,axb6,Qxc4,Qc7,Ne4,Ne7,Nd6,Nd5,Rhe1,b5,Qc5,Qa5,Kb1,Nxf4,Rf1,Nd5,Nf7,Bxe5,Nxd8,Rxd8,Rf7', 'Nc3+,bxc3,Rxd1+', 'https://lichess.org/training/4RswI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4rwKw', 'Blitz', 'Sycopha', 1827, 'varchenko', 1810, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Nd7,Bxc6,bxc6,Qxd4,Bc5,Qf4,O-O,O-O,Rb8,Qg3,Kh8,Nbd2,Qe7,Nb3,Bb6,Bg5,Qe6,a4,a5,Nbd4,Bxd4,Nxd4,Qg6,f4,c5,f5,Qh5,Nc6,Rxb2,e6,fxe6,fxe6,Rxf1+,Rxf1,Nf6,Qxc7,Qxg5,Qxc8+,Ng8,e7,Rxc2', 'Qxg8+,Kxg8,e8=Q#', 'https://lichess.org/training/4rwKw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4s1X4', 'Blitz', 'bethhhhhharmon', 1758, 'BraianOrtiz', 1697, 'c4,e5,Nc3,Bc5,Nf3,d6,g3,Nf6,Bg2,Nc6,O-O,Bg4,a3,a6,b4,Ba7,Bb2,Qd7,Nd5,Bh3,Nxf6+,gxf6,c5,h5,d4,h4,Nxh4,Rxh4,gxh4', 'Qg4,e3,Qxg2#', 'https://lichess.org/training/4s1X4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4S3J8', 'Rapid', 'sleepingcatinthesun', 1715, 'paulroad', 1632, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Qe7,Qe2,d5,exf6,Qxe2+,Bxe2,d4,Ne4,Bf5,Bd3,g6,Nf3,Nc6,O-O,Nb4,Re1,O-O-O,a3,Nxd3,cxd3,Re8,Nd6+', 'Bxd6,Rxe8+,Rxe8', 'https://lichess.org/training/4S3J8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4s81p', 'Blitz', 'AbdAlQadir', 2455, 'FM AitorRO', 2347, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,d3,Bg7,h3,Nf6,Qe2,Nd7,e5,Qc7,Bf4,f6,exf6,Qxf4', 'Qxe7#', 'https://lichess.org/training/4s81p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4S9UA', 'Rapid', 'Yog-Sothoth07', 1723, 'Patoche3', 1819, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qd8,e4,Nc6,d5,Ne5,h3,e6,Bg5,h6,Bh4,Be7,Bg3,Ng6,Bb5+,Bd7,Bd3,exd5,exd5,Bb4,Bxg6,fxg6,Ne2,Ne4,Qd3,Nxg3,Qxg6+,Kf8,Qxg3,Bd6,Qf3+,Kg8,O-O,Kh7,Nd4,Rf8,Qe4+,Kh8,Ncb5,Bc5,Ne6,Bxe6,dxe6,c6,Nc3,Qe7,Rad1,Rae8,Rde1,Qg5,Re2,Rf4,Qe5,Rf5,Qe4,Rf4,Qe5,Rf5,Qe4,Bd6,Rfe1,Rf4,Qe3,Qg6,g3,Rf5,Kg2,Bc5,Qe4,Qf6,Rf1,Bd6,a3,Re5,Qd3,R8xe6,Rxe5,Rxe5,Ne4,Rd5', 'Qxd5,cxd5,Nxf6', 'https://lichess.org/training/4S9UA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4S9yM', 'Classical', 'RennocMc', 1792, 'Kauhtly', 1735, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bg4,h3,Bxf3,Qxf3,Nd7,Bc4,e6,d3,Ngf6,Nxf6+,Nxf6,Bg5,Be7,O-O-O,h6,Bh4,Nd5,Rhe1,Bxh4,Re4,Bf6,Rde1,Qb6,Rxe6+,fxe6,Rxe6+,Ne7,Qh5+,Kf8', 'Rxf6+,gxf6,Qf7#', 'https://lichess.org/training/4S9yM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4SA5D', 'Rapid', 'monaresmanuel', 1628, 'Evilking12', 1750, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bb4,O-O,O-O,a3,Bxc3,dxc3,d5,exd5,Ne7,Nxe5,Nexd5,Bg5,Nb6,Qxd8,Rxd8,Bxf7+,Kf8,Rad1,Bf5,Bb3,Rxd1,Rxd1,Re8,Bxf6,gxf6,Nf3,Re2,Nd4,Re5,Nxf5,Rxf5,Rd8+,Ke7,Rh8,h5,h3,Nd5,Rh7+,Kd6,Kf1,Nf4,g3,Nxh3,f4,Nxf4,gxf4,Rxf4+,Ke2,Rh4,Rf7,Rh2+,Kf3,h4,Rxf6+,Ke5,Re6+,Kf5,Re4', 'Rh3+,Kg2,Rg3+,Kf2,Kxe4', 'https://lichess.org/training/4SA5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Sbgt', 'Rapid', 'Chase344', 2041, 'FORGIIVIING', 1994, 'c4,e5,Nc3,Nc6,g3,Bc5,Bg2,a6,Nf3,Nge7,O-O,d6,Rb1,Bg4,a3,Ba7,b4,h5,h3,Nf5,hxg4,hxg4,Nh2,Nxg3,e3,Qh4,Nxg4,f5,fxg3,Qxg3,Rxf5,O-O-O,Qf3,Qe1+,Qf1,Qg3,Qe2,Nd4,exd4,Bxd4+,Kf1', 'Rh1+,Bxh1,Qg1#', 'https://lichess.org/training/4Sbgt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4SDEP', 'Rapid', 'eab', 1799, 'PavelVolk', 1865, 'e4,e5,Nf3,Nf6,Nc3,d6,d4,exd4,Nxd4,g6,Bg5,Bg7,Bc4,O-O,h3,Qe8,Qf3,Qe5,Be3,Be6,Bd3,c5,Ndb5,a6,Nc7,Ra7,O-O-O,b5,N7d5,Nxd5,exd5,b4,Bf4,Qf6,Na4,Bxd5,Qxd5,Qxf4+,Kb1,Qf6,g4,Re8,f4,Qxf4,Rhf1,Qe5,Qf3,Nc6,Qxc6,Raa8,Bc4,Rac8,Bxf7+,Kh8,Qxa6,Rf8,Rxd6', 'Ra8,Qxa8,Rxa8', 'https://lichess.org/training/4SDEP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4SDnc', 'Rapid', 'Sefj', 1993, 'hossein_raha', 1894, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,d5,Ne5,f4,Ng6,Nf3,Bg4,Nc3,a6,Be2,Qb6,h3,Bd7,Nd4,Nh4,O-O,e5,dxe6,fxe6,Kh1,e5,fxe5,dxe5,Nd5,Qd8,Nf3,Ng6,Ng5,Nf6,b3,Be7,Bb2,O-O,Bc4,Kh8,Nxf6,Bxf6,Qh5,Bxg5,Rxf8+,Nxf8,Bxe5,Ng6,Bd4,b5,Bd5,Rb8,Rf1,Rc8', 'Bxg7+,Kxg7,Rf7+,Kh8,Rxh7#', 'https://lichess.org/training/4SDnc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4SDxK', 'Classical', 'knightknightking', 1706, 'DeepArt1988', 1743, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bb5,Bd7,a3,Rc8,O-O,a6,Ba4,e6,Bf4,Be7,Bxd6,b5,Bb3,Nh6,Rc1,O-O,h3,Bxd6,Qxd6,Qe7,Rfd1,Qxd6,Rxd6,Rfd8,Rcd1,Rc7,Nd4,Na5,Nxe6,fxe6,Bxe6+,Bxe6,Rxd8+,Kf7,Rh8,Nc4,Nd5,Rd7,b3,Nxa3,Ra1,Bxd5,exd5,b4,Ra8,Rd6,Rd1,Nb5,Ra1,Na3,Rd1,Nf5,g4,Nh4,Rd3,Nb5,f4,Nc3,Ra7+,Kg6,Re3,h6,Re6+,Rxe6,dxe6,Ne2+,Kf2,Nxf4,e7,Kf7,Ke3,Nxh3,Kd4,Ng6,Kc5,Nxe7,Kxb4,Nf2,Ka5,Nxg4,Kxa6,h5,b4,h4,b5,h3,Kb6,h2,Ra1,Nf2,Kc7,h1=Q,Rxh1,Nxh1,Kd6,Nc8+,Kc7,Ne7,Kd6,Nc8+,Kc7,Nb6,Kxb6,g5,Kc5,g4,b6,g3,b7,g2,b8=Q,g1=Q+,Kc6,Qg2+,Kc5,Qc2+,Kb6,Qb3+,Ka7,Qe3+,Ka6,Qe6+,Qb6,Qa2+,Kb7,Nf2,Qc7+,Kf6,Qf4+,Kg7,Qg5+,Kf8,Qf6+,Ke8,Qc6+,Ke7,Qc7+,Ke6,Qc8+,Kd5', 'Qg8+,Ke4,Qxa2', 'https://lichess.org/training/4SDxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4seCY', 'Rapid', 'tacticovitch', 2084, 'Artwell', 2043, 'd4,Nf6,c4,e6,Nf3,d5,g3,dxc4,Ne5,Bb4+,Nc3,b5,Bg2,Nd5,O-O,f6,e4,Nxc3,bxc3,Bxc3', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/4seCY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4sFEp', 'Rapid', 'Bhambya', 1826, 'PrimitiveYavuz', 1766, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Be2,O-O,O-O,h5,Nxe5,Nc6,Nxc6,dxc6,d3,Qd4,Bg5,Ng4,h3', 'Nxf2,Rxf2,Qxf2+', 'https://lichess.org/training/4sFEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4sGPn', 'Rapid', 'englishkid', 1803, 'zembelek1', 2091, 'Nf3,c5,b3,d5,Bb2,Nc6,e3,Qc7,Bb5,Bd7,O-O,Nf6,c4,e6,cxd5,exd5,d4,Be6,Ne5,Bd6,Nxc6,bxc6,Be2,cxd4,Bxd4,c5,Bxf6,gxf6,g3,Ke7,Bf3,Rad8,Nd2,f5,Rc1,f4,exf4,Bxf4,gxf4,Qxf4,Bg2,Rhg8,Qf3,Qxf3,Nxf3,Bh3,Rfe1+,Kd6,Nh4,Rg4,Rcd1,Rdg8,Rxd5+,Kc7,Rxc5+,Kb8,Rb5+,Kc7,Rc1+,Kd6,Rd5+,Ke7,Re1+,Kf6,Rf5+,Kg7,Re7,Rxg2+,Nxg2,Bxf5,Rxa7,Kf6,Kh1,Be4,Ra6+,Ke7,Ra7+,Ke6,Ra6+,Kd5,Ra5+,Kc6,Ra6+,Kb7,Rf6,Rxg2,Rxf7+,Kc6,f3,Bxf3,Rxf3,Rxa2,Kg1,Rb2,h3,Kd5,h4,Ke4,Rg3,Kf4,Rg7,h5,Rg5,Rxb3,Rxh5,Rb2,Rd5,Kg3,h5', 'Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/4sGPn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4shaX', 'Classical', 'billooji', 1857, 'Si73', 1723, 'd4,d5,a3,g6,e3,Bg7,Nf3,Nf6,Be2,Nc6,O-O,a6,c4,b6,b4,dxc4,Bxc4,b5,Ba2,O-O,Bb2,Bb7,d5,Na7,Nbd2,Bxd5,Bxd5,Qxd5,Qc2,c6,Rad1,Qe6,e4,Rad8,e5,Ng4,Ng5,Qc8,Ndf3,h6,Qe4,hxg5,h3,Nh6,Nxg5,Qf5,Qe3,e6,Rxd8,Rxd8,Bc1,Nc8,Qc5,Qxe5,Qxc6,Bf6,Nf3,Qh5,Bf4,g5,Be5,Bxe5,Nxe5,g4,Nd7,Kg7,Qc3+,e5,Nxe5,f6,Nxg4,Nxg4', 'Qc7+,Kf8,Qxd8+', 'https://lichess.org/training/4shaX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4SI8L', 'Rapid', 'Michael_C_Price', 2050, 'Tomahawk73', 1953, 'c4,e5,d3,Nf6,Nf3,Qe7,Nc3,a6,g3,g6,Bg2,Bg7,O-O,O-O,Bg5,h6,Nd5,Qd6,Bxf6,Bxf6,Nxf6+,Qxf6,Qd2,Kg7,b4,c6,a4,d5,cxd5,cxd5,Rfc1,Be6,Ne1,Nc6,e3,Rad8,Nc2,e4,d4,Bg4,b5,axb5,axb5,Ne7,Nb4,Qf5,Ra7,Bf3,Rxb7,Rfe8,Rcc7,Kf8,Qa2,h5,Nc6,Nxc6,bxc6,h4,Rxf7+,Qxf7,Rxf7+,Kxf7,c7,Rd7,Bh3,Rxc7,Qxd5+,Kg7,Qb5,Rc1+,Bf1,Rec8,Qe5+,Kh6,Qf4+,g5,Qf6+,Kh7,gxh4', 'Rxf1+,Kxf1,Rc1#', 'https://lichess.org/training/4SI8L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Sjle', 'Blitz', 'Kinxley', 2180, 'TK_Highlander', 2197, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,d6,Bg5,Be7,Qd2,O-O,O-O-O,h6,Bf4,g5,Be3,Ng4,h4,Nxe3,Qxe3,gxh4,Kb1,Bg5,f4,Bf6,e5,Bg7,Bd3,d5,f5,d4,Qe4,f6,Ne2,Qd5,Qxh4,fxe5,Be4,Qd8,Qh5,Rb8,g4,Qg5,Qh3,Rf6,Ng3,Qe3,Qg2,c5,Rde1,Rxb2+,Kxb2', 'Rb6+,Ka1,Qc3#', 'https://lichess.org/training/4Sjle');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4sLhL', 'Blitz', 'Pattexperte', 2117, 'DrHack', 2097, 'c4,Nf6,Nc3,e6,g3,d5,cxd5,Nxd5,Bg2,Nxc3,bxc3,c6,d4,Nd7,e4,e5,Ne2,exd4,cxd4,Bb4+,Bd2,Qa5,Bxb4,Qxb4+,Qd2,Qxd2+,Kxd2,Nb6,Rac1,Be6,Nc3,Rd8,Kd3,Bc4+,Ke3,O-O,Rhd1,f5,f3,Rfe8,a4,Bb3,a5,Nc4+,Kf4,Bxd1,Rxd1,Nxa5,d5,fxe4,fxe4,cxd5,exd5,Nc4,Nb5,a6,Nd4,Rf8+,Ke4,Rf2,Bh3,g6,Ne6,Re8,Kd4,Nd6,Ke5,Nf7+,Ke4,Rxh2,Bg4,Ng5+,Ke5,Rg2,Kf6,Nxe6,Bxe6+,Kf8,g4,Rf2+,Ke5,g5,Rh1,Kg7,Kd6,Rf6,Kd7,Ref8,Bf5,R8f7+,Kd8,Rd6+,Ke8,h6,Be6,Rf4,Rc1,Rd4,Rc7+,Kh8,Ke7,R6xd5,Bxd5,Rxd5,Rxb7,Rd4,Kf6,Rxg4', 'Kg6,Rf4,Rb8+,Rf8,Rxf8#', 'https://lichess.org/training/4sLhL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4sLzu', 'Classical', 'Axel1875', 1818, 'ct41', 1927, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Nc3,Bb7,Be2,Bc5,Qd3,Qf6,O-O,O-O-O,Nd5,Bxd5,exd5,c6,Qa6+,Kb8,Be3,Bxe3,fxe3,Qxb2,Rab1,Qxc2,Bf3,Ne7,Rfc1,Qd2,dxc6,dxc6', 'Rxb6+,axb6,Qxb6+', 'https://lichess.org/training/4sLzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4SmhP', 'Rapid', 'Pawn_2022', 2101, 'asu76', 2083, 'e4,e5,c3,Nf6,Nf3,Nc6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,Bd2,Nxd2,Qxd2,O-O,Be2,Re8,O-O,d5,a3,Bxc3,bxc3,Qe7,Rae1,Qf6,h3,Bd7,Bd3,h6,Re3,Rxe3,fxe3,Qe7,Qf2,Re8,Re1,a6,Bb1,f5,Qg3,Be6,Nh4,g5,Nxf5,Bxf5,Bxf5,Rf8,Rf1,Kg7,Qf3,Re8,Qxd5,Qxe3+,Kh1,Qe2,Bd3,Qe6,Qf3,Nd8,Qh5,Nf7,Rf2,Qe1+', 'Rf1,Qxf1+,Bxf1', 'https://lichess.org/training/4SmhP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Sp89', 'Blitz', 'yos_putraa', 2210, 'dhuridipak', 1894, 'd4,d5,e3,e6,Nf3,f5,Nc3,Nf6,Bd3,c6,O-O,Bd6,a3,O-O,Qd2,Ne4,b3,Nd7,Ne5,Qf6,Bxe4,fxe4,f4,exf3,Rxf3,Qe7,Rxf8+,Nxf8,g3,Bxe5,dxe5,Qg5,Bb2,Ng6,Ne4,Qh5,Rf1,Nxe5,Qd4,Qg6,Qxe5,dxe4,Qc7,e5', 'Qd8+,Qe8,Qxe8#', 'https://lichess.org/training/4Sp89');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4SPo7', 'Classical', 'jesusmor', 1809, 'Pontus4Chess', 1799, 'e4,d5,exd5,Nf6,d4,Bg4,Be2,Bxe2,Nxe2,Qxd5,O-O,Nc6,Nbc3,Qh5,Nf4,Qxd1,Rxd1,O-O-O,Nce2,e5,Nh3,Nxd4,Nxd4,exd4,Ng5,Rd7,Bf4,h6,Nf3,c5,Ne5,Re7,c3,g5,Bg3,Ne4,cxd4,Nxg3,hxg3,Bg7,Re1,cxd4,Rac1+,Kb8', 'Nc6+,bxc6,Rxe7', 'https://lichess.org/training/4SPo7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4SXMC', 'Rapid', 'RedRakus', 1727, 'WujekPiotrek', 1682, 'd4,g6,Nf3,Bg7,c4,Nf6,g3,d6,Bg2,Nc6,Nc3,e5,dxe5,dxe5,O-O,Bf5,b3,O-O,Bb2,Ne4,e3,Nb4,Nh4,Nxc3,Bxc3,Nc2,Nxf5,Nxa1,Nxg7,Kxg7,Bxe5+,f6,Bxa1,c6,Qe2,Qa5,Rd1,Rad8,Re1,Rd2,Qg4,Rxa2,Qd7+,Kh6,Qd1,Rd8,Bd4,Rd2,Qg4', 'R2xd4,exd4,Qxe1+', 'https://lichess.org/training/4SXMC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4syLh', 'Rapid', 'brunnojoga10', 1739, 'gladmax', 1639, 'd4,Nf6,Bf4,d6,c4,Bf5,Nc3,Nc6,Nf3,Qd7,e3,O-O-O,Be2,e5,dxe5,dxe5,Qxd7+,Nxd7,Bg3,Bb4,Rc1,f6,O-O,Nc5,Nd5,Ne4,Bd3', 'Nxg3,Bxf5+,Nxf5', 'https://lichess.org/training/4syLh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4SYWH', 'Rapid', 'Chygirin', 1725, 'mikel', 1725, 'Nf3,d5,c4,e6,e3,Nf6,Nc3,Be7,b3,O-O,Bb2,Nbd7,g3,Nb6,Qe2,c5,d4,cxd4,exd4,Bb4,a3,Bxc3+,Bxc3,Ne4,Ba5,Qf6,Bg2,Bd7,c5,Nc8,Ne5,b6,Bxe4,dxe4,Qxe4,bxa5,Qxa8,Ne7,Nxd7,Rxa8,Nxf6+,gxf6,O-O,Nd5,Rfc1,Rb8,c6,Rc8,Rc5,Kf8,Rac1,Rc7,Rxa5,Ke7,b4,Kd6,b5,Nb6,Rc5,e5,f4,exd4,Rc1,Kd5,Kf2,Nc4,Ra4,Nb2,Rb4', 'Nd3+,Ke2,Nxc1+,Kd2,Na2', 'https://lichess.org/training/4SYWH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4SZLZ', 'Blitz', 'Sans_The_Skeleton', 1764, 'Ja_han', 1764, 'd4,c6,c4,d5,Nc3,Nf6,Nf3,Bg4,Bf4,e6,e3,dxc4,Bxc4,Nbd7,Bb3,Nb6,O-O,Nbd5,Bc2,Nxf4,exf4,Nd5,Nxd5,exd5,Re1+,Be7,Qd3,Bxf3,Qxf3,O-O,Qh5,g6,Qh6,Bf6,f5,Bxd4,fxg6,fxg6,Re6,Bg7,Rxg6,hxg6,Qxg6,Qf6,Qh7+,Kf7,Re1,Rae8,Qh5+,Kg8,Bh7+,Kh8', 'Bg6+,Bh6,Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/4SZLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4t1cV', 'Bullet', 'GM rasulovvugar', 2841, 'FM Zhalmakhanov_R', 2833, 'e4,c5,Nc3,e6,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Be3,Bb4,Bd3,d5,Nxc6,bxc6,O-O,d4,e5,dxe3,exf6,exf2+,Kh1,Qxf6,Ne4,Qe5,Rxf2,O-O,Qf3,Be7,Raf1,Rb8,b3,f5,Nd2,Bd6,g3,c5,Nc4,Bb7,Nxe5,Bxe5,Qxb7,Rxb7,Bc4,Bd4,Rxf5,Rxf5,Rxf5,Re7,c3,Bxc3,Rxc5,Bd4,Rc6,Kf7,Kg2,Bb6,Kf3,Kf6,Ke4,h5,a4,Ba5,h4,g5,hxg5+,Kxg5', 'Rc5+,e5,Rxa5', 'https://lichess.org/training/4t1cV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4T50k', 'Rapid', 'Sofia-2011', 1922, 'alex1165', 2007, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,b6,Nf3,Bb7,d5,Nbd7,Be2,Nc5,e5,dxe5,fxe5,Ng4,Bf4,O-O,Qd2,f6,e6,Ne5,O-O,Ba6,Nxe5,fxe5,Bh6,Qd6,Bxg7,Kxg7,b4,Nxe6,Ne4,Qd7,dxe6,Qxe6,Rxf8,Rxf8,Qd5', 'Qxd5,cxd5,Bxe2', 'https://lichess.org/training/4T50k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4t647', 'Rapid', 'knera', 1697, 'sleit', 1654, 'd4,d5,c4,Nf6,Nc3,e6,a3,Bd6,e3,O-O,Nf3,Bd7,Bd3,a6,O-O,dxc4,Bxc4,b5,Bd3,c5,dxc5,Bxc5,b4,Be7,Ne5,Nc6,Nxd7,Qxd7,Bb2,Rad8,Qc2', 'Qxd3,Qxd3,Rxd3', 'https://lichess.org/training/4t647');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Tbcd', 'Rapid', 'Razann524', 1829, 'dopaminetract', 1782, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,e6,Bf4,Qa5,Qb3,b6,Ne5,Bd6,Nxc6', 'Nxc6,Bxd6,Nxd4,Qa4+,Qxa4', 'https://lichess.org/training/4Tbcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4tCUj', 'Blitz', 'maythegod', 2047, 'Evgen24', 2023, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,cxd4,cxd4,Bd7,Nbd2,Nxd4,O-O,Nxf3+,Nxf3,Ne7,Be3,Qd8,b4,a6,a4,Nc6,b5,axb5,axb5,Nb4,Rxa8,Qxa8,Be2,Be7,Qb3,Qa2,Qxa2,Nxa2,Ra1,Nc3,Ra8+,Bd8,Bd3,O-O,b6,Bb5,Bc2,Ba6,Bc5,Be7,Rxf8+,Kxf8,Bd6,Bxd6,exd6,h6,Ne5,Nb5,d7,Ke7,Ba4,f6,Nc4,Kxd7,Ne3,Kd6,Nd1,Nd4,Nc3,Nf5,f4,Ne3,Kf2,Nc4,Kf3,Nxb6,Be8,Nc4,Na4,Nd2+,Ke3,Nb3,Nb2,Nc5,Kd4,Nd7,Bh5,b6,Bf3,Nc5,Nd1,e5+,fxe5+,fxe5+,Kc3,e4,Bg4,Ke5,h3,Bc4,Ne3,Na4+,Kb4,Nc5,Nxc4+,dxc4,Kxc4,e3,Be2,Kf4,Kd4,g5,g3+,Kxg3,Kxe3,Kxh3,Kf3,g4+,Kf2,g3+,Kg1,Ne4,Bf3,Ng5,Bc6,h5,Kh1,h4', 'Bd7+,Ne6,Bxe6#', 'https://lichess.org/training/4tCUj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4TEWz', 'Rapid', 'MAZZINGERZ', 1580, 'Bialz', 1534, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,bxc6,O-O,Nxe4,Re1,d5,d3,Nf6,Rxe5+,Be7,Bg5,O-O,Re1,Re8,Nc3,Bg4,Bxf6,Bxf6,Rxe8+,Qxe8,d4,Bxf3,Qxf3,h6,Rd1,Rd8,h3,Qe6,Na4,Be7,Nc3,c5,dxc5,Bxc5,Rxd5,Rxd5,Nxd5,Qe1+,Kh2,Bd6+,g3,c6,Ne3,Bc5,Ng4,h5,Ne3,g6,b3,Qd2,Qe4,Kh7,Kg2,f5,Qd3,Bxe3,Qxe3,Qxc2,h4,Qxa2,Qe7+,Kh6,Qg5+,Kg7,Qe7+,Kh6,b4,Qa3,Qc5,a5,Qxa5,Qc3,Qc5,Qxc5,bxc5,Kg7,Kf3,Kf6', 'Kf4,Ke6,Kg5,Kf7,Kh6', 'https://lichess.org/training/4TEWz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4tFjZ', 'Rapid', 'Ikebana', 1834, 'PortugueseDAce', 1905, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,Nf6,N1c3,a6,Nd6+,Bxd6,Qxd6,Qe7,Qxe7+,Nxe7,Be2,h6,O-O,O-O,Be3,d5,exd5,Nexd5,Nxd5,Nxd5,Bc5,Re8,Bc4,Nf4,g3,Ng6,Rfe1,Bh3,Bb6,Rac8,Bb3,Bf5,c3,Be6,Bxe6,Rxe6,Be3,f5,f4,e4,Rad1,Ne7,Rd7,b5,Red1,Nc6,R1d6,Rxd6,Rxd6,Na5,Bd4,Rf8,b3,Nb7,Rxa6,Nd8,Rb6,Re8,Kf2,Ne6,Ke3,g5,Rxb5,gxf4+,gxf4,Nxd4,cxd4,Rc8,Rc5,Ra8,a4,Rb8,Rc3,Kg7,d5,Kf6,Kd4,Rb4+,Kc5,Rb8,b4,Re8,Re3,Ra8,a5,h5,d6,Ke6,Kc6,Rd8,d7,Rxd7,Rg3,Rd6+,Kc5,Rd3,Rg6+,Kf7,Rd6', 'Rxd6,Kxd6,e3', 'https://lichess.org/training/4tFjZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4TgF4', 'Rapid', 'alfaatienza', 2008, 'haditli', 1900, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,Bd7,Bxd7+,Qxd7,Nc3,Nxd5,Qf3,Nxc3,dxc3,Bd6,Be3,O-O,O-O-O,Nc4,Qh5,h6,h4,Qb5,b3,Ba3+,Kb1,a5,Rh3,a4,Ne4,axb3,cxb3,Na5,Nf6+,Kh8,Bxh6,g6,Rg3,Nxb3', 'Bxf8+,gxh5,Rg8#', 'https://lichess.org/training/4TgF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4THDD', 'Classical', 'jagadeesh143', 1795, 'HarishKaptan', 1747, 'e4,c5,Bc4,a6,Qh5,e6,c3,Nc6,d3,b5,Bb3,Nf6,Qf3,g6,Bg5,Bg7,Bd1,Ne5,Qg3,Bb7,Qxe5,O-O,Qg3,d6,Bf3,Re8,e5,Bxf3,Qxf3,dxe5,Nd2,Qe7,Ne4,Reb8,Bxf6,Bxf6,Qxf6,Qd7,Qf3,Kg7,Nh3,Rd8,Rd1,f5,Nxc5,Qa7,Nxe6+,Kh8,Nxd8,Rxd8,Ng5,h6,Nh3,h5,Qc6,Kh7,Ng5+,Kh6,Nf3,e4,Qf6,exd3,Qg5+,Kg7,Qxd8,Qf7,b3', 'Qe6+,Kf1,Qe2+,Kg1,Qxd1+,Ne1,Qxe1#', 'https://lichess.org/training/4THDD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4TiDN', 'Blitz', 'FLUZAO', 2067, 'sillabusz', 2115, 'f4,Nf6,Nf3,d5,e3,Nc6,b3,a6,Bb2,Bg4,Be2,Ne4,O-O,e6,Ne5,Bxe2,Qxe2,Nxe5,Bxe5,f6,Bb2,Bc5,d3,Nd6,Nd2,Bb6,Kh1,h5,c4,Nf5,d4,h4,c5,Ba5,a3,c6,b4,Bc7,a4,Qd7,Qg4,Nxe3,Qf3,Nxf1,Nxf1,O-O-O,b5,cxb5,axb5,Qxb5,Bc1,h3,g3,e5,fxe5,fxe5,Qf5+,Kb8,Rb1,Rdf8,Kg1,Qe2,Rxb7+,Kxb7,Qb1+,Qb5,Bb2,e4,Ne3,Kc6,Qc2,Rf3,Bc1,Rhf8,Qd1,Qb4,Bd2,Qa3,Bc1,Qc3,Bd2,Qd3,Qa4+,Kb7,c6+,Ka7,Qd1,Rxe3,Qc1,Ref3,Qc5+,Bb6', 'Qe7+,Bc7,Qxc7+,Ka8,Qb7#', 'https://lichess.org/training/4TiDN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4tjjf', 'Rapid', 'pullbear1', 2208, 'YURIK2009', 1854, 'e4,c5,Nc3,e6,g3,Nc6,Bg2,Nge7,Nb5,d5,exd5,exd5,d4', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/4tjjf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4tjT6', 'Blitz', 'Virus77', 1774, 'Amadix', 1801, 'd4,e5,d5,Bc5,g3,Qf6,f3,d6,Bg2,Ne7,Nc3,Bb6,Ne4,Qg6,b3,f5,Nd2,f4,g4,O-O,Nc4,Bd4,Rb1,b5,Nb2,Qg5,h4,Qg6,Nd3,Bxg4,fxg4,Qxg4,Nf3,Qg3+,Kd2,Be3+,Kc3,Bxc1,Qxc1,Qxg2,Kb2,Qg6,Rg1,Qe4,Qf1,Nxd5,Qg2,Rf7,Ng5,Qd4+,Kc1,Qe3+,Kb2,Qd4+,Kc1,Re7,h5,Ne3,Qh3,Qc3', 'Qc8+,Re8,Qxe8#', 'https://lichess.org/training/4tjT6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4tNWq', 'Classical', 'Fix5781', 1941, 'Luba67', 1896, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Be3,Nbd7,Be2,c5,d5,e5,O-O,Ng4,Bd2,f5,exf5,gxf5,h3,Ngf6,Bg5,a6,a4,e4,Nh4,Ne5,f4,exf3,Nxf3,Nxf3+,Rxf3,Bd7,Bd3,Qc8,Qc2,h6,Bh4,Nh5,Be7,Rf7,Bxd6,Bd4+,Kh1,f4,Ne2,Be3,Bxf4,Bxf4,Bg6,Bf5,Bxf7+,Kxf7,Qc3,Be4,Nxf4,Bxf3,Nxh5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/4tNWq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4TOZg', 'Classical', 'pippo11', 1709, 'maverickrabiddogiam', 1687, 'e4,e5,f4,exf4,Nf3,d6,Bc4,h6,d4,Nf6,Nc3,Be6,d5,Bg4,Bxf4,c6,dxc6,bxc6,O-O,Be7,h3,Be6,Bd3,O-O,e5,dxe5,Nxe5,Nbd7,Nxc6', 'Qb6+,Kh1,Qxc6', 'https://lichess.org/training/4TOZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4tP0W', 'Classical', 'Abneto', 1743, 'inruk1024', 1710, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Ng8,d4,cxd4,cxd4,g6,Bc4,e6,O-O,Nge7,Bg5,h6,Bf6,Rh7,Nc3,Bg7,Bxg7,Rxg7,Nb5,Nf5,g4,Nfe7,Nd6+,Kf8,Qd2,h5,Qh6,hxg4,Ng5,Nf5,Qh8+,Rg8', 'Nh7+,Ke7,Qf6#', 'https://lichess.org/training/4tP0W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Ts4U', 'Rapid', 'Ferjasali', 1916, 'MadKakashi', 1792, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,O-O,Nf6,Qb3,O-O,d3,d6,h3,h6,Bb5,Bd7,Qa4,Bb6,Be3,Ne7,Bxd7,Qxd7,Qxd7,Nxd7,Nbd2,d5,exd5,Nxd5,Bxb6,N5xb6,d4,exd4,Nxd4,Nd5,c4,N5f6,Rab1,b6,Nb5,c6,Nc3,Nc5,Nf3,Rfe8,Rfe1,Rxe1+,Rxe1,Re8,Rxe8+,Nxe8,Ne5,Nd6,Nxc6,a6,Nd5,Nxc4,Ncb4,a5,Nc6,Kf8,Na7,Ke8,Nc8,b5,Ncb6,Nxb6,Nxb6,Ke7,Nd5+,Kd6,Nc3,b4,Nb1,Kd5,Kf1,a4,Ke1,b3,axb3,axb3,Kd2,Kd4,f3,g5,Nc3,f5,Nb5+,Kc4,Nd6+,Kb4,Nxf5,Ka3,Ne3,Ka2,Nd1,Ne6,g3,Nd4,f4,gxf4,gxf4,Nf5,Kc3', 'Ne3,Nxe3,b2', 'https://lichess.org/training/4Ts4U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4tUOX', 'Blitz', 'Jugadorcito', 2080, 'Rummstein', 1984, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,c4,c5,cxd5,exd5,Ngf3,cxd4,Nb3,Nc6,Nbxd4,Ndxe5,Bb5,Nxf3+,Qxf3,Bd7,Qxd5,Bb4+,Kf1,O-O,Be3,Qc7,Rc1,Rad8,Qf3,Qe5,Bxc6,Bxc6,Nxc6,bxc6,a3,Ba5,b4,Bb6,Qf4,Qb2,Bxb6,axb6,g3,Rd2,Kg2,c5,bxc5,bxc5,Rxc5,Rfd8,Rc7,f6,a4,R2d4,Qe3,Qb4,Qe6+,Kh8,Qf7,Rg8,Rhc1,Rdd8,R1c4,Qe1,a5,Rd1,Kh3,Qf1+,Kh4,Qg2,h3,Qxf2,Rg4,Rd4', 'Qxg7+,Rxg7,Rc8+,Rd8,Rxd8+,Rg8,Rgxg8#', 'https://lichess.org/training/4tUOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4tV8e', 'Rapid', 'sawwow83', 1914, 'calvingoh', 1900, 'e4,c5,Nc3,d6,f4,g6,Nf3,Bg7,Bb5+,Bd7,Bc4,a6,a4,Nc6,O-O,Rb8,d3,Nd4,Nxd4,Bxd4+,Kh1,b5,axb5,axb5,Bb3,Nf6,Qe1,Ng4,Nd5,e6,Ne3,Nxe3,Bxe3,Bxb2,Ra2,Bg7,Ra7,O-O,e5,dxe5,Bxc5,Re8,fxe5,Bc6,Rfxf7,Bh6,Qf2,Qg5,Rg7+,Bxg7', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/4tV8e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4tVdq', 'Rapid', 'Madhav_Kulkarni', 1616, 'abeylyh', 1622, 'e4,c6,Nf3,d5,e5,Bg4,h3,Bxf3,gxf3,e6,d4,Nd7,a3,c5,Nc3,cxd4,Qxd4,Bc5,Qf4,Ne7,Rg1,Ng6,Qg3,Ndxe5,f4,Nd7,h4,Bd6,Bd3,Qc7,h5,Bxf4,Bxf4,Nxf4,Qxg7,Nxd3+,cxd3,O-O-O,Qxf7,Qe5+,Kd1,Rdf8,Qg7,Qxh5+,Ke1,Qf5,Rg2,Qxd3,Rd1,Qf5,Nb5,Qe4+,Kd2,Qf4+,Ke1,a6,Qc3+,Kd8,Nd4,Qe4+,Kd2,Qxg2,Nxe6+,Ke7,Nxf8,Qxf2+,Kc1,Rxf8,Qb4+,Ke8,Re1+,Kf7,Re7+,Kg8', 'Qg4+,Kh8,Qg7#', 'https://lichess.org/training/4tVdq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4twDF', 'Blitz', 'mohammedarrami', 2622, 'Alfilparanoico', 2555, 'e4,c6,Nf3,d5,Nc3,Bg4,h3,Bxf3,Qxf3,e6,d4,Nf6,Bd3,Bb4,e5,Nfd7,a3,Be7,Qg3,g6,Ne2,c5,c3,Nc6,Bh6,cxd4,cxd4,Qb6,Qf4,Qb3,Qd2,Nb6,O-O,Nc4,Bxc4,Qxc4,Rfc1,Qa6,b4,Kd7,Nc3,b5,Qf4,Nd8,a4,bxa4,Nxa4,Qb5,Nc5+,Bxc5,bxc5,a5,Bg5,Rf8,Bh6,Re8,Bg5,Ra7,c6+,Kc8,c7,Rxc7,Rxc7+,Kxc7,Bxd8+,Rxd8,Qxf7+,Qd7,Rc1+,Kb6,Qf3,Rc8,Qb3+,Ka7,Rb1,Qc6,Kh2,h5,Qa3,Ka6,Qb3,Rc7,Qb8,Rb7', 'Qa8+,Ra7,Qxc6#', 'https://lichess.org/training/4twDF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4TWG1', 'Classical', 'shingizhan001', 1979, 'Rocky68', 1974, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Bc4,O-O,f3,Nc6,Qd2,Bd7,g4,Ne5,Be2,Rc8,h4,Nc4,Bxc4,Rxc4,Bh6,Qc7,Bxg7,Kxg7,h5,Rc8,hxg6,fxg6,O-O-O,Qa5,Kb1,Rxc3,bxc3,Rxc3,Nb3,Qc7,Rh2,a5,Kb2,a4,Qxc3', 'a3+,Kxa3,Qxc3', 'https://lichess.org/training/4TWG1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Ty8a', 'Rapid', 'ULTRADRAGONS', 2362, 'kdp0007', 2186, 'e4,c5,Nf3,e6,Nc3,a6,a4,Nc6,Bc4,d6,O-O,Nf6,d4,cxd4,Nxd4,Be7,Bg5,O-O,Kh1,h6,Bh4,e5,Nxc6,bxc6,f4,Be6,fxe5,dxe5,Qe2,Qc8,Bxe6,Qxe6,Rf5,Nh7,Bxe7,Qxe7,Qc4,Qc7,Raf1,Ra7,h4,g6,R5f3,Kg7,Qc5,Rb7,h5,Ng5,Rf6,gxh5,b3,Qe7,Qxc6', 'Rc7,Qxa6,Rxc3', 'https://lichess.org/training/4Ty8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Tywz', 'Blitz', 'Medenica', 1997, 'marennes', 1995, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,c3,c5,Bd3,Nc6,Ne2,Qb6,Nf3,c4,Bc2,Be7,O-O,f5,exf6,Nxf6,h3,O-O,Nh2,e5,dxe5,Nxe5,Nd4,Bd6,Rb1,a6,Qe2,Qc7,Bg5,h6,Bxf6,Rxf6,Rbd1,Bd7,Nhf3,Re8,Nxe5,Bxe5,Qh5,Bh2+,Kh1,Re5,Qh4,Rf4,g4,Rg5,Rde1,Qd6,Re2,Bxg4,Re8+,Kf7,hxg4,Rfxg4,Qxh2', 'Qxh2+,Kxh2,Rh4#', 'https://lichess.org/training/4Tywz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4u3i6', 'Blitz', 'Zona1', 1986, 'mahsa_iranian', 1906, 'e4,e6,Nc3,d5,d4,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,Bd6,Bg5,Qf5,Bd3,Qa5+,c3,c6,O-O,Nd7,Re1,h6,Bh4,O-O,Qe2,Qc7,Qe4,g6,Qg4,Kg7,Bg3,Bxg3,fxg3,Nf6,Qh4,c5,Rf1,Ne8,Ne5,cxd4,cxd4,b6,Rac1,Qd6,Rc6,Qb4,b3,Bb7,Rc4,Qd6,g4,Ba6,g5,hxg5,Qxg5,Bxc4,Bxc4,Qxd4+,Kh1,Rc8,Bxe6,Rc5,Bxf7,Qxe5', 'Qxg6+,Kh8,Qh6#', 'https://lichess.org/training/4u3i6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4U3iN', 'Rapid', 'andreas218', 2146, 'titila35', 1794, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,Ng5,O-O,d4,exd4,cxd4,Bxd4,Bb5,Re8,Bxc6,dxc6,Qb3,Nxe4,Qxf7+,Kh8,O-O,Nxf2,Qh5,Nh3+,Kh1,Nxg5,Bxg5,Bf6,Bxf6,gxf6,Nc3,Qe7,Rxf6,Rg8', 'Rf7,Qxf7,Qxf7', 'https://lichess.org/training/4U3iN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4u4MS', 'Rapid', 'Zubozavr', 1733, 'raysanartraymundo', 1754, 'e4,c5,Nf3,d6,Bb5+,Bd7,a4,Nf6,Nc3,a6,Bxd7+,Nbxd7,d4,cxd4,Nxd4,g6,O-O,Bg7,Be3,O-O,Qc1,Qc7,Bh6,Ne5,Bxg7,Kxg7,Kh1,Rfc8,a5,b6,axb6,Qxb6,Qe3,Qxb2,Na4,Qb7,c3,Qxe4,Nb6,Qxe3,fxe3,Rxc3,Nxa8,Rxe3,Rxa6,Rd3,Nc6,Nc4,Nxe7,Rd2,Ra4,Ne3,Rg1,Nfg4,h3,Nf6,Raa1,Nh5,Rae1,Nc4,Rd1,Rf2,Nd5,Ne5,Ne3,Ng3+,Kh2,Ne2,Rgf1', 'Nf3+,Kh1,Ng3#', 'https://lichess.org/training/4u4MS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4U5HO', 'Blitz', 'SanijaG', 1882, 'Fox_1981', 1874, 'e4,e5,Nf3,f5,Nc3,fxe4,Nxe4,d5,Ng3,e4,Qe2,Nf6,d3,Qe7,dxe4,dxe4,Nd2,Nc6,Ndxe4,Nd4,Nxf6+,gxf6,Qxe7+,Bxe7,Bd3,Bd7,Be3,c5,Bxd4,cxd4,O-O-O,O-O-O,Bf5,Bxf5,Nxf5,Bc5,Rhe1,Rhg8,g3,Kc7,Ne7,Bxe7,Rxe7+,Kc6,Rxh7,Rge8,Rh6,Re2,Rxf6+,Kc5,Rf5+,Kb4,a3+,Ka4,Rf4,Rc8,Rdxd4+,Kb5,Rf5+,Ka6,Rd6+,b6,c3,Rce8,Rd4,Re1+,Kc2,R8e2+,Kb3,Rb1,Ra4+,Kb7,Rf7+,Kc6,Kc4,Rbxb2,Rf6+,Kb7,Rf7+,Kc6,Raxa7', 'b5+,Kd4,Rbd2#', 'https://lichess.org/training/4U5HO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4U6Qb', 'Rapid', 'Emilio_Major', 1952, 'Freakycartel', 1890, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be6,O-O,Be7,Bg5,O-O,f4,exf4,Bxf4,Nc6,Bf3,Rc8,Nd5,Bxd5,exd5,Ne5,Be2,Ng6,c4,Nxf4,Rxf4,Re8,Bd3,Qb6+,Kh1,Qe3,Rf3,Qb6,Qc2,g6,Qf2,Qd8,Rf1,Kg7,Qd4,Rf8,g4,h6,h4,Kg8,Rxf6,Bxf6,Qxf6,Qxf6,Rxf6,Kg7,Rxd6,f5,gxf5,gxf5,Rd7+,Rf7,Rxf7+,Kxf7,Bxf5,Rxc4,Be6+,Kf6,Na5,Rxh4+,Kg2,b6,Nc6,a5,Kg3,Rc4,Bg8,h5,b3', 'Rg4+,Kh3,Rxg8', 'https://lichess.org/training/4U6Qb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4uAM7', 'Rapid', 'shier6', 2074, 'Kisyam', 2131, 'e4,c5,Nc3,Nc6,g3,e5,Bg2,d6,d3,Be6,Nge2,Nge7,O-O,g6,f4,Bg7,h3,Qc8,Kh2,h5,Be3,O-O,Qd2,f5,Nd1,d5,exd5,Nxd5,Bxc5,exf4,Bxf8,Qxf8,Nxf4,Bf7,Nxg6,Qd6,Nf4,Nxf4,Rxf4,Bh6,Nc3,h4,Raf1,hxg3+,Kxg3,Kh7,Kh2,Rg8,Kh1,Bxf4,Rxf4,Qg6,Qf2,Ne5,Be4,fxe4,d4,Nf3,Nxe4', 'Qg1+,Qxg1,Rxg1#', 'https://lichess.org/training/4uAM7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4uBIi', 'Rapid', 'MIKAGULI', 1817, 'vajojozsef', 1931, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,Kf8,Qd2,h5,h3,Nc6,O-O-O,Bd7,g4,hxg4,hxg4,Nxg4,Rxh8+,Bxh8,Rh1,Bg7,Bxg4,Bxg4,Bh6,Bxh6,Qxh6+,Ke8,Qg5,Bh5,Nde2,e6,Qg3,Rc8,Nf4,Nd4,Nxh5', 'Rxc3,bxc3,Ne2+,Kd2,Nxg3', 'https://lichess.org/training/4uBIi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4uBLx', 'Blitz', 'Exodus21', 2037, 'WIM theater', 2099, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,O-O,h3,Na5,Bc2,c5,d4,Qc7,Nbd2,Rd8,Nf1,cxd4,cxd4,exd4,Nxd4,d5,e5,Ne4,Bf4,Bc5,Ne3,Qb6,Nb3,Bb7,Nxc5,Qxc5,Rc1,Nc4,b3,Nb2,Qh5,Qa3,Bxe4,dxe4,Nf5,Nd3,Qg4,g6,Nh6+,Kf8,Nf5,gxf5', 'Bh6+,Ke8,Qg8+,Kd7,Qxf7+', 'https://lichess.org/training/4uBLx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4UEsx', 'Classical', 'Rainer2288', 1984, 'Defesafrancesa', 2054, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,c5,c3,cxd4,Qxd4,Qxd4,cxd4,Bb4+,Nc3,O-O,Ne2,a6,O-O,Nbd7,Bf4,Nb6,a3,Be7,b4,Nfd5,Bg3,Bd7,Rfc1,Rac8,Ne4,Rxc1+,Rxc1,Rc8,Nc5,Bc6,h3,Nd7,Be4,N7f6,Bd3,Ne8,Nxa6,bxa6', 'Bxa6,Ra8,Rxc6', 'https://lichess.org/training/4UEsx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4UJaY', 'Classical', 'asideplano', 1630, 'DocLatin', 1674, 'd4,e6,c4,Nf6,Bf4,Bd6,Bxd6,cxd6,Nc3,O-O,g3,Qb6,Rb1,Qb4,e3,Ne4,Qc2,b6,Qxe4,Nc6,Bd3,g6,Ne2,Bb7,a3,Qa5,Qg4,Nxd4,Rg1,Nc6,h4', 'Ne5,Qh3,Nxd3+', 'https://lichess.org/training/4UJaY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Ump4', 'Blitz', 'sal473', 1792, 'sucojuan', 1729, 'd4,d5,e3,g6,c4,dxc4,Bxc4,Bg7,Nf3,Nd7,a3,c6,b4,b5,Bd3,a5,bxa5,Qxa5+,Nbd2,Ngf6,O-O,O-O,Qc2,Bb7,Nb3,Qc7,Bb2,Nd5,Rfc1,Rac8,e4,Nf4,Bxb5,Qb8,Bf1,Nf6,h3,Rfd8,Nc5,N6h5,a4,Nxh3+,gxh3,Nf4,a5,Rc7,a6,Bc8,Qd2,Ra7,d5,Nxh3+,Bxh3,Bxh3,Bxg7,Kxg7,Nb7,Rd7,Qd4+,f6,Nc5,Rd8,Ne6+,Kf7,Nxd8+,Qxd8,Qxa7,Qd6,Rxc6,Qf4,Nh2', 'Qg5+,Ng4,Qxg4+,Kh2,Qg2#', 'https://lichess.org/training/4Ump4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4UN0f', 'Rapid', 'bedo777', 1873, 'FloatingSignifier', 1673, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qa4,g6,Nf3,Bg7,c3,d6,Bf4,Nf6,Nbd2,O-O,Bd3,Bd7,Qc2,Rc8,a3,Nh5,Bg3,e5,O-O-O,Nxg3,hxg3,f5,exf5,Bxf5,Bxf5,Rxf5,g4,Rf4,g5,Qf8,Rh3,Nd4,Nxd4,exd4,Qb3+,Kh8', 'Rxh7+,Kxh7,Rh1+', 'https://lichess.org/training/4UN0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4un5E', 'Classical', 'alireza3311', 1698, 'snuke', 1732, 'd4,Nc6,Nf3,d5,Bf4,Nf6,e3,Bg4,c3,e5,dxe5,Ne4,h3,Bxf3,gxf3,Nc5,b4,Ne6,Bd3,f6,Qc2,Nxf4,exf4,fxe5,Na3,Qh4,b5,Na5,b6,Bxa3,bxc7,Rc8,Qa4+,Nc6,Qxa3,Qxf4,O-O,Rxc7,Bb5,Qxf3,Bxc6+,bxc6,Qd6,Qf7,Rae1,Qe7', 'Rxe5,Kf7,Rxe7+', 'https://lichess.org/training/4un5E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4UPl9', 'Rapid', 'Astig', 1962, 'LeXuSBisHOP', 1771, 'e4,c6,d4,d5,exd5,cxd5,c4,e6,Nc3,Nf6,Nf3,Nc6,cxd5,Nxd5,Qb3,Bd6,Nb5,Bb4+,Bd2,Bxd2+,Nxd2,a6,Nc3,O-O,Nf3,Nf4,Rd1,Qf6,Ne4,Qe7,g3,Nd5,Bg2,Qb4+,Ned2,Nxd4,Nxd4,Qxd4,O-O,Qb4', 'Bxd5,Qxb3,Bxb3', 'https://lichess.org/training/4UPl9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4USaL', 'Blitz', 'Chr1sT0rres', 1859, 'JORGELUIS08', 1764, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Bg4,c3,Nf6,Re1,Be7,d3,h6,Nbd2,b5,Bc2,d5,a4,dxe4,Nxe4,O-O,h3,Bh5,Ng3,Bxf3,Qxf3,Na5,axb5,axb5,Rxe5,Bd6,Rxb5,Nc6,Rxa8,Qxa8,d4,Ne7,Qd3,c6,Nh5,cxb5', 'Nxf6+,gxf6,Qh7#', 'https://lichess.org/training/4USaL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4UTt9', 'Rapid', 'milanpreetsingh06', 1846, 'asker711', 1723, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,a6,a4,Bg4,h3,Bh5,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/4UTt9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4uU6B', 'Blitz', 'anderson92', 1848, 'TheZyrax', 1583, 'e4,d5,d4,dxe4,c4,e5,d5,c6,Nc3,cxd5,cxd5,Bb4,Bb5+,Bd7,Bxd7+,Qxd7,Ne2,Nf6,O-O,O-O,Bg5,Bxc3,Nxc3,Nh5,Nxe4,Qf5,Qxh5,Qxe4,Be7,Re8,d6,Nd7,Rfe1,Qd5,Rad1,Qxa2,Re3,Rac8,Rf3,Qxb2,Qxf7+,Kh8,Rg3,Rg8,Rh3,Rc1', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/4uU6B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4uV8j', 'Classical', 'Antunovich', 1613, 'KateBautista', 1672, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Qe7,d5,Bd7,dxc6,bxc6,Bc4,d5,exd5,cxd5,Qxd5,Rd8,O-O,Bf5,Qxe5,Qxe5,Nxe5,Be6,Bxe6,fxe6,Re1,Bb4,c3,Bc5,Na3,Ne7,Bg5,O-O,Bxe7,Bxe7,h3,Rd2,Nec4,Rdxf2,Rf1', 'Rxf1+,Rxf1,Bc5+,Kh2,Rxf1', 'https://lichess.org/training/4uV8j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4UVQB', 'Rapid', 'DrMandalayzbay22', 1890, 'kralevas', 1835, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Na5,O-O,d6,d4,Nxb3,axb3,exd4,Qxd4,c5,Qd5,Rb8,Ng5,Nh6,Nf3,Be6,Qc6+,Bd7,Qxa6,b4,Bxh6,gxh6,Qc4,Bb5,Qd5,Bxf1,Kxf1,Bg7,c3,O-O,Ra7,bxc3,Nxc3,Bxc3,bxc3,Qb6,Ra3,Qc7,Nh4,Qb7,Qd1,Qxe4,g3,Qh1+,Ke2,Rfe8+,Kd2,Qxh2,Qg4+,Kf8,Nf5,Qxf2+,Kd3,Qf1+,Kd2,Qf2+,Kd3,c4+,bxc4,Qf1+,Kd4,Qf2+,Kd3,Qf1+,Kd4,Qf2+,Kd3,Re6,Qg7+,Ke8,Qg8+,Kd7,Ra7+,Kc6,Nd4+,Kb6', 'Qxb8+,Kc5,Ra5#', 'https://lichess.org/training/4UVQB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4uWeB', 'Blitz', 'estheri', 1749, 'Charlie781', 1731, 'e4,e5,Nf3,d6,Nc3,Bg4,Be2,Nf6,d3,Nc6,Bg5,Be7,O-O,h6,Bh4,g5,Bg3,Qd7,Qd2,O-O-O,Nd5,Bxf3,Bxf3,Kb8,c3,g4,Be2,h5,b4,Ka8,b5,Nb8,c4,h4,a4,Nxd5,exd5,hxg3,fxg3,f5,a5,Rdf8,Rab1,Rh7,d4,Rfh8,b6,a6,bxc7,Qxc7,Rb6,Rxh2,Kf2,Qd8,Rfb1,Bg5,Qb4,R2h7,dxe5,dxe5,Rxb7,Nd7', 'Ra7+,Kxa7,Qb7#', 'https://lichess.org/training/4uWeB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4uwVk', 'Rapid', 'Lawarre', 1922, 'seraphshining', 1927, 'e4,d6,d4,g6,Nf3,Nf6,Nbd2,Bg7,Bc4,O-O,O-O,Nbd7,h4,e5,d5,c6,Ng5,Nc5,f3,h6,b4,hxg5,bxc5,gxh4,cxd6,Qxd6,a4,Nh5,Ba3,Qf6,Bxf8,Bxf8,Nb3,h3,g4,Qh4,gxh5', 'Qg3+,Kh1,Qg2#', 'https://lichess.org/training/4uwVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4uxzu', 'Rapid', 'llanisco', 1825, 'Dr_Che5s', 1815, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,Nf6,Bd3,Bg4,Be2,e6,h3,Bh5,O-O,h6,Be3,Bb4,Qd2,O-O,a3,Ba5,b4,Bb6,Na4,Bc7,Rad1,Bxf3,Bxf3,Nbd7,c4,Nb6,Qc2,Nxa4,Qxa4,Re8,Qc2,Bb6,c5,Bc7,Qc1,a6,Bf4,Bxf4,Qxf4,Nd5,Bxd5,exd5,Rfe1,Qd7,Kf1,Rxe1+,Rxe1,Re8,Rxe8+,Qxe8,Qe3,Qe6,Qxe6,fxe6,Ke2,Kf7,Ke3,Kf6,h4,h5', 'Kf4,e5+,dxe5+', 'https://lichess.org/training/4uxzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4UYl2', 'Rapid', 'kamran20', 2191, 'LittleGavroche', 2217, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,g6,e4,d6,f4,Bg7,Nf3,O-O,Be2,a6,a4,Re8,Qc2,Qe7,Bd3,Bf5,O-O,Nxe4,Re1,Bxc3,bxc3,Nd7,h3,c4,Bxc4,h5,Nd4,Qf6,Nxf5,gxf5,Bb2,h4,Bd3,Ndc5,c4,Qg6,Re3,Ng3,Rae1,Nxd3,Qxd3,Ne4,Qd4,Kh7,Qb6,Rg8,R1e2,Rab8,Qc7,Rgc8,Qd7,Rxc4,Rb3,Rbc8,Qxb7,Rc1+,Bxc1,Rxc1+,Kh2,Qg3+,Rxg3', 'hxg3#', 'https://lichess.org/training/4UYl2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4uZ6V', 'Rapid', 'ASTEIA', 1805, 'chuifoutu', 1926, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,Nf6,Bd2,Nc6,Ne4,Qe5,f4,Qxb2,Bc3,Qb6,Nxf6+,gxf6,Nf3,Bh6,Qd2,Qc5,Be2,e5,g3,Bh3,Nh4,O-O-O,a3,Rhg8,Bb4,Qb6,Rb1,exf4,Qc1,fxg3,Qxh6,g2,Nxg2,Rxg2', 'Qxh3+,f5,Qxg2', 'https://lichess.org/training/4uZ6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4V3FI', 'Rapid', 'alexpav77', 1818, 'marcandrysco', 1986, 'd4,Nf6,e3,g6,f4,Bg7,Nf3,b6,Bd3,Bb7,O-O,O-O,c3,c5,Nbd2,d5,Qe2,Nbd7,Ne5,Qc7,Ndf3,Rac8,Ng5,h6,Ngf3,Ne4,Nd2,Ndf6,f5,Nxd2,Bxd2,Ne4,fxg6,Bxe5,gxf7+,Rxf7,Rxf7', 'Bxh2+,Kh1,Ng3+,Kxh2,Nxe2+', 'https://lichess.org/training/4V3FI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4v88m', 'Classical', 'TreyHardee', 1656, 'fego28', 1766, 'c4,e5,Nc3,f5,e3,Nf6,d4,exd4,exd4,Bb4,Bg5,O-O,Qf3,Qe7+,Be2,d6,O-O-O,Bxc3,bxc3,Qd7,Bd3,Qc6,d5,Qa4,Rd2,Na6,Be3,Qa3+,Kb1,Qxc3,Ne2,Qa5,Ka1,Nb4,Rb1,Nxd3,Rxd3,Ne4,g4,Nc5,Bxc5,Qxc5,Rd4,fxg4,Qe3,a6,Nf4,Qa7,Ne6,Bxe6,Qxe6+,Kh8,Qxg4,Rxf2,Rg1,Rg8,Qh4,Rf7', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/4v88m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vDWN', 'Rapid', 'z52', 2056, 'night_ow1', 1906, 'd4,c5,Nf3,cxd4,Nxd4,g6,g3,Bg7,Bg2,Nc6,Nxc6,bxc6,O-O,Nf6,c4,e6,Nc3,O-O,Qc2,Ba6,b3,d5,Rd1,Qc7,c5,Rad8,Bb2,d4,Ne4,Nxe4,Bxe4,d3,Bxd3,Bxb2,Qxb2,Bxd3,Rxd3,Rxd3,exd3,a5,Qc3,Qa7,Re1,a4,Re4,axb3,axb3,Qa6,Ra4,Qb5,Ra5,Qb7,b4,Rd8,Qc4,Rd5,Ra6,Qd7,Ra8+,Kg7,Qc3+,f6,Ra3,e5,Kg2,Rd4,Qa1,Qd5+,f3,Rxb4,Ra7+,Kh6,Qc1+,g5,h4,Qxd3,hxg5+,fxg5', 'Qh1+,Rh4,gxh4', 'https://lichess.org/training/4vDWN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4VGr5', 'Blitz', 'TamarJalis', 2156, 'fehinty', 2106, 'd4,c6,c4,d5,Nf3,Bf5,Nc3,e6,cxd5,exd5,Bf4,Bd6,Bxd6,Qxd6,e3,Nf6,Bd3,Bg4,O-O,O-O,Qc2,Nbd7,Bf5,Bxf3,gxf3,g6,Bd3,Qe6,Kh1,Qh3,Be2,Rae8,Rg1,Nh5,Rg2,Ndf6,Rag1,Re7,Qd1,Rfe8,Bf1,Qh4,Qe2,Nf4,Qc2,Nxg2,Bxg2,Nh5,Ne2,f5,Ng3,Nxg3+,fxg3,Qh6,e4,dxe4,fxe4,fxe4,Qc4+,Kh8,Rf1,e3,d5,e2,Re1,Qe3,dxc6,Qf2,Qc3+,Kg8,cxb7,Rxb7,Bxb7', 'Qf1+,Rxf1,exf1=Q#', 'https://lichess.org/training/4VGr5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4VGVl', 'Rapid', 'khosrow777', 1947, 'abrakadabraaaa', 1701, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Be7,O-O,Nf6,fxe5,Nxe5,Bb3,Bg4,d3,Bxf3,gxf3,O-O,Bf4,c6,Kh1,Ng6,Bg5,b5,Nd2,c5,Bxf6,Bxf6,Bd5,Rb8,Rb1,Nf4,Rg1,Be5,Rg4,h5,Rg3,Qh4,Qe1,Nxd3', 'Rxg7+,Kxg7,Qxh4', 'https://lichess.org/training/4VGVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4VieQ', 'Blitz', 'NM The_Mule', 2389, 'JHAvE', 2451, 'd4,e6,Nf3,c5,c3,b6,Bf4,Bb7,e3,d6,Nbd2,Nf6,Bd3,Be7,O-O,Nh5,Bg3,Nxg3,hxg3,O-O,e4,Nd7,Rc1,cxd4,cxd4,e5,a3,exd4,Nxd4,Bf6,N2f3,Ne5,Rc2,Qd7,Bb5,Qg4,Re1,Bxe4,Rc7,Bxf3,Nxf3,Nxf3+,gxf3,Qh5,Bc6,Rac8,Qxd6,Rxc7', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/4VieQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vIV8', 'Rapid', 'Vulpix8', 1777, 'Kyroll1979', 1678, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,d6,c3,O-O,h3,Nh5,d4,exd4,cxd4,Bb4,Nc3,Bxh3,gxh3,Qf6,Kf1,Nf4,Bxf4,Qxf4,Nd5,Qh6,Nxb4,Nxb4,a3,Nc6,Qd2,Qxh3+,Ke2,Rab8,Rh1,Qg4,Rag1,Qxe4+,Qe3', 'Qc2+,Kf1,Qxc4+', 'https://lichess.org/training/4vIV8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vkcU', 'Rapid', 'barcavelo', 1726, 'pppppppppleer', 1710, 'd4,d5,c4,dxc4,Qa4+,Bd7,Qxc4,Nf6,Nf3,e6,Bg5,Be7,Nc3,a6,e4,O-O,a4,Bc6,Bd3,h6,Bh4,Nbd7,O-O,Nb6,Qb3,a5,Rad1,Ng4,Bxe7,Qxe7,Rfe1,Qb4,Qc2,Bxa4,Nxa4,Nxa4,Rb1,Rac8,e5,h5,h3,Nh6,Re4,f5,Rh4,g6,Ng5,Qe7,Nf3,Nb6,Qd2,Kg7,Qxa5,Nd5,Bc4,c6,b4,Nc3,Qc5', 'Qxc5,dxc5,Nxb1', 'https://lichess.org/training/4vkcU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vKNJ', 'Rapid', 'Antmer', 1649, 'Tollk', 1694, 'd4,e6,Nf3,d5,e3,c5,c3,Nc6,dxc5,Bxc5,b4,Bd6,a3,a6,Bb2,Nf6,Nbd2,O-O,Nd4,e5,Nxc6,bxc6,h3,c5,g3,Re8,Bg2,e4,Nb3,Bd7,c4,Qb6,bxc5,Bxc5,Bxf6,gxf6,Nxc5,Qxc5,cxd5,Bb5,Rc1,Qxa3,Bf1,Rac8,Rxc8,Rxc8', 'Qg4+,Kf8,Qxc8+', 'https://lichess.org/training/4vKNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vnBw', 'Blitz', 'Rocker2', 1898, 'youareboring', 1814, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bg4,dxe5,dxe5,Qxd8+,Rxd8,Bxc6+,bxc6,Nbd2,Nf6,h3,Bh5,O-O,Bb4,Re1,Bxd2,Nxd2,O-O,b3,Rd4,f3,Bg6,Bb2,Rxd2,Ba3,Re8,c4,Nh5,Red1,Re2,Rd7,Nf4,Rxc7,Rxg2+,Kf1,Rg3,Be7,Rxf3+,Ke1,Bxe4,Rxa7,Ng2+,Ke2,Rxh3,Rg1,Nf4+,Kf2,Nd3+,Ke2,Nf4+,Kf2,f6,Bxf6,Ng6,Rxg7+,Kf8,Re1,Bf5,Rd1,Nf4,Rdg1,Nd3+,Ke2,Re6,Rg8+,Kf7,Bh8,Rh2+,Ke3,Nc5', 'R1g7+,Kf6,Rc7#', 'https://lichess.org/training/4vnBw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vNJx', 'Classical', 'shoti43', 1834, 'peymann', 1710, 'e4,c6,d4,b5,Nf3,e6,Bd3,Nf6,Bg5,h6,Bh4,g5,Bg3,d5,e5,Nfd7,O-O,f6,exf6,Nxf6,Be5,Rg8,c3,Nbd7,Qc2,Nxe5,Nxe5,Qc7,Bg6+,Ke7,Re1,Rb8,Bf7,Rg7,Bxe6,Bxe6,Ng6+,Kf7,Nh8+,Ke7,Qf5,Ne4,Ng6+,Kd6', 'Qe5+,Kd7,Nxf8+', 'https://lichess.org/training/4vNJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Vomw', 'Rapid', 'Atobu', 1928, 'zoen', 1961, 'e4,e6,d4,c5,Nf3,Qc7,Be3,c4,Nbd2,b5,c3,a6,b3,d5,exd5,exd5,g3,Bg4,Bg2,Bd6,O-O,Nf6,Qc2,Nbd7,Ng5,Bh5,bxc4,bxc4,Qa4,Be2,Rfe1,Bd3,Bf4+,Kf8,Bxd6+,Qxd6,Ndf3,g6,Ne5,Kg7,Nxd3,cxd3,Qd1,h6,Nf3,Rae8,Qxd3,Ne4,Nd2,f5,f3,Ng5,c4,Rhf8,Rxe8,Rxe8,cxd5,Qxd5,Qc4,Qa5,Nb3,Re1+,Rxe1,Qxe1+,Qf1,Qe3+,Kh1,h5,h4,Ne6,d5,Nd4,Nxd4,Qxd4,f4,Nc5,Qe1,Ne4,Qa5,Nxg3+,Kh2,Qxf4', 'Qc3+,Kf7,Qxg3', 'https://lichess.org/training/4Vomw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4VP1v', 'Rapid', 'Sahilluhana', 1842, 'hilux36', 1832, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,e6,Bb5,Bd7,O-O,Nf6,Bg5,Be7,f4,a6,Be2,h6,Bh4,Nxd4,Qxd4,Rc8,e5,d5', 'exf6,Bxf6,Bxf6', 'https://lichess.org/training/4VP1v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vQlH', 'Classical', 'axelblaze9720', 1646, 'AC_Tom', 1665, 'e4,e5,d4,Nf6,dxe5,Nxe4,Be3,Nc6,f3,Nc5,Bc4,Nxe5,b3,Nxc4,bxc4,Qh4+,g3,Qxc4,Qe2,Qb4+', 'Bd2+,Ne6,Bxb4', 'https://lichess.org/training/4vQlH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vrSb', 'Rapid', 'Mojereza', 1656, 'BlackWolf07', 1644, 'e4,b6,Bc4,Bb7,Qf3,e6,d4,d5,exd5,exd5,Bb3,Qe7+,Ne2,Nd7,O-O,O-O-O,Nbc3,Ndf6,Bg5,h6,Bxf6,Nxf6,Rfe1,Qb4,a3,Qd6,Nb5,Qd7,Nxa7+,Kb8,c4,Kxa7,cxd5,Kb8,a4,Bb4,Rec1,Bxd5,Bxd5,Qxd5,Qg3,g5', 'Qxc7+,Ka8,Qxb6', 'https://lichess.org/training/4vrSb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vrsd', 'Rapid', 'silvio_pao', 1945, 'pacao', 1907, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,O-O,Be2,d5,h3,c5,c3,Nc6,Nbd2,c4,O-O,Re8,Ne5,Nd7,Ndf3,Ndxe5,Nxe5,Nxe5,Bxe5,Bxe5,dxe5,e6,f4,Qb6,Qd2,a5,h4,a4,a3,Ra5,h5,Rb5,Rab1,Qd8,hxg6,fxg6,Bf3,Bd7,e4,Bc6,exd5,Bxd5,Rbd1,Qb6+,Kh1,Rxb2,Qd4,Bxf3,Rxf3,Qb3,Qd7,Qb5,Qc7,Qc6,Qd6,Rb5,Rd4,Rb1+,Kh2,Rb2,Qxc6,bxc6,Rxc4,Rc8,Rxa4,c5,Ra6,Kf7,Rd3,Rc7,Rdd6,Re7,Rdc6,Rf2,Kg3,Ra2,Rxc5,h5,Rca5,Rc2,Rc6,Rb7,Raa6,Re7,a4,h4+,Kf3,Rc1,Kf2,Rc2+,Kf3,Rc1,a5,Rf1+,Kg4,Rg1,Kh3,Rh1+,Kg4,Rg1,Kf3,Rf1+,Ke3,Re1+,Kd3,Rg1,Ra8,Rxg2,a6,Ra2,Rc4,h3,f5,exf5,Rh4,Rd7+,Ke3,h2', 'Rh7+,Ke6,Re8+,Kd5,Rxd7+', 'https://lichess.org/training/4vrsd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4VTQL', 'Blitz', 'ted555', 2234, 'zaito0630', 2206, 'e4,e6,d4,d5,Nd2,c5,exd5,Qxd5,Ngf3,Nf6,Bc4,Qd8,O-O,Nc6,Nb3,cxd4,Nbxd4,Nxd4,Nxd4,Bc5,Nf3,O-O,a3,Qc7,b3,a6,Bb2,Be7,Qe2,b5,Bd3,Bb7,Ne5,Bd6,f4,Nd5,Rae1,Bc5+,Kh1,Ne3,Rf2,Nf5,Rff1,Rad8,Qg4,Ne3,Rxe3,Bxe3,Nd7,g6,Nxf8,Rxf8,Qg5,Qc6,Rf3', 'Qxf3,gxf3,Bxf3+,Qg2,Bxg2+', 'https://lichess.org/training/4VTQL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vtZr', 'Classical', 'adriano_cf', 1919, 'RockMoses', 1848, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be2,c5,e5,Nh5,Ng5,cxd4,Qxd4,Bxe5,Qd2,Nc6,Bxh5,gxh5,O-O,f6,Nf3,Rg8,Nxe5,Nxe5,Qe2,Bh3', 'Qxh5+,Rg6,Qxh3', 'https://lichess.org/training/4vtZr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4VU7q', 'Blitz', 'skft158', 2212, 'NM gmboring', 2315, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Bb4,e3,h6,Bh4,g5,Bg3,Ne4,Rc1,c6,Bd3,f5,Ne2,O-O,Be5,Nd7,O-O,Nxe5,dxe5,Qe7,f4,Bc5,Nd4,gxf4,Bxe4,Qxe5,Nf3,Qg7,Bxd5+,Kh8,Bb3,fxe3,Ne2,Bb6,Qd6,f4,Rc4,Bh3,Nh4,f3,Ng6+,Kh7,Rxf3,Rxf3,gxf3,Rd8,Qg3,Bf5,Ngf4,Qxb2,Rc1,Qxc1+', 'Nxc1,e2+,Kg2', 'https://lichess.org/training/4VU7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vuRW', 'Rapid', 'Mds2308', 1948, 'Dsharanyak', 1737, 'e4,c5,Nc3,e6,g3,Nf6,Bg2,Nc6,Nge2,d5,exd5,Nxd5,d3,g6,O-O,Bg7,Nxd5,exd5,Nf4,Be6,Re1,O-O,Nxe6,fxe6,Rxe6,Bd4,Re2,Qf6,Bxd5+,Kh8,Qf1,Ne5,Bf4,Nc6,Re6,Qf5,Bb3,a5,a4,g5,Be3,Be5,Bxc5,Bxb2,Rb1,Qxc5,Rxb2,Nd4,Re3,Qc3,Rb1,Nf3+,Kh1,Nd2,Qh3,Nxb1,Re7,Qc6+,Kg1,Qg6,Qg4,Rae8', 'Qd4+,Qf6,Qxf6+,Rxf6,Rxe8+', 'https://lichess.org/training/4vuRW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4VWlB', 'Blitz', 'Echiquier31', 1558, 'bassie96chess', 1560, 'e4,e5,f4,exf4,Nf3,Qe7,e5,f6,d4,d6,Bc4,fxe5,O-O,e4,Re1,Nf6,Ng5,Bf5,Bf7+,Kd8,Nc3,Nbd7,Bxf4,h6,Ncxe4,Nxe4,Nxe4,Bxe4,Bd5,Nf6,Bxe4,Nxe4,Qf3,d5,Re3,g5,Be5,Bg7,c4,Rf8,Qg4,Bxe5,dxe5,Qxe5,cxd5,Qf4,Rxe4', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/4VWlB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4vzd9', 'Blitz', 'mikhailpikai', 1745, 'milad_khosravi', 1798, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nge7,Nc3,d6,O-O,Nxd4,Qxd4,Be6,Be3,Nc6,Qd3,Be7,Bb5,Bd7,Bxc6,Bxc6,Nd5,O-O,c4,Bd7,Bd4,c6,Qg3,f6,Ne3,b6,Nf5,Bxf5,exf5,d5,cxd5,Qxd5,Bc3,Qxf5,Rfe1,Bc5,h3,Rae8,a3,a5,Rad1,Kh7,Rxe8,Rxe8,Kf1,Qc2,Qf3,Bxf2,Rd2,Qc1+,Kxf2,Re1,Qd3+,Kg8,Re2', 'Rf1+,Kg3,Qf4#', 'https://lichess.org/training/4vzd9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4w70p', 'Blitz', 'Drwanda', 1910, 'Sinisters', 1908, 'e3,d5,d4,Nc6,c4,e5,Nc3,exd4,exd4,dxc4,Be3,Nf6,Bxc4,Bb4,Bd3,Bg4,Ne2,O-O,O-O,g6,Bh6,Re8,Qd2,Bxc3,Nxc3,Qxd4,Qg5,Rad8,h3,Qxd3', 'Qxf6,Qd4,Qxd4,Nxd4,hxg4', 'https://lichess.org/training/4w70p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4W7VR', 'Rapid', 'MaxEve', 2048, 'Nashequilibrium', 1906, 'e4,c5,Nf3,e6,Bc4,a6,a4,Nc6,c3,Na5,Na3,Nf6,Qe2,Be7,d4,d5,exd5,exd5,Ba2,c4,O-O,O-O,Bg5,Re8,Qc2,h6,Bh4,Bg4,Ne5,Bh5,b4,cxb3,Bxb3,g5,Bg3,Ne4,c4,Rc8,c5,f5,f3,Nxg3,hxg3,Nxb3,Qxb3,Bxc5,Rad1,Bxd4+,Rxd4,Rxe5,f4,Re2', 'Rxd5,Bf7,Rxd8+', 'https://lichess.org/training/4W7VR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4W8Y3', 'Rapid', 'Kushiro', 1809, 'MehmetCigdem', 1834, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,O-O,c3,d5,exd5,Nxd5,h3,Re8,d4,exd4,Rxe8+,Qxe8,Bxd5,Bf5,Bxc6,Qxc6,cxd4,Bd6,Nc3,Rd8,Be3,Qd7,Qb3,Bxh3,Ne4,Bxg2,Nxd6,Qg4,Qxf7+,Kh8,Qf4,Qh3,Qh2,Rf8,Qxh3,Bxh3,Ng5,Bd7,Nxb7,h6,Nc5,Bc6,Nge6,Rf3,a4,Rh3,f3,Rh1+,Kf2,Rxa1,Nxc7,Rb1,N7e6,Rxb2+,Kg3,Rb1,Kf4,Rf1,Ke5,Rxf3,Nd8', 'Rxe3+,Kf4,Rf3+', 'https://lichess.org/training/4W8Y3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4wfpv', 'Rapid', 'enamorado', 2009, 'OlegJdanov', 1989, 'e4,Na6,Bxa6,bxa6,d4,Nh6,Bxh6,gxh6,d5,d6,Qd4,Rg8,g3,Bg7,Qa4+,Bd7,Qa3,Rb8,c3,e6,Ne2,exd5,exd5,Qg5,O-O,Bb5,Re1,Kd7,b4,Qxd5,Nf4,Qc4,Qc1,Rge8,a4,Bc6,b5,axb5,axb5,Bxb5,Rxa7,Rxe1+,Qxe1,Bxc3,Nxc3,Re8,Qa1,Bc6,Na4,Qe4,Nb6+,Kd8,Nbd5,Bxd5,Nxd5,Qxd5,Ra8+,Kd7', 'Qa4+,Qc6,Qxc6+,Kxc6,Rxe8', 'https://lichess.org/training/4wfpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4wFwO', 'Rapid', 'Ferda38', 1883, 'bizkarrondo', 1838, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,c6,Nf3,Bf5,Ne4,Qb6,Nxf6+,gxf6,Bc3,Nd7,Bc4,Rg8,g3,e6,O-O,O-O-O,Nh4,Bh3,Re1,Ne5,Bf1,Bg4,Be2,h5,f3,Bf5,Nxf5,exf5,Kh1,h4,f4,Ng4,Bxg4,fxg4,Qd2,hxg3,Ba5,Qxd4', 'Qxd4,Rxd4,Re8+,Kd7,Rd8+', 'https://lichess.org/training/4wFwO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4WgNa', 'Rapid', 'sin74', 1635, 'Aurum66', 1610, 'e4,e5,Nf3,Nc6,Bc4,f5,exf5,Nf6,d3,d5,Bb5,Qd6,Bxc6+,bxc6,O-O,Bxf5,Re1,e4,dxe4,Bxe4,Ng5,Be7,b3,O-O,Ba3,Qe5,Nxe4,Nxe4,Bxe7,Qxa1,Bxf8,Rxf8,f3,Nc3,Nxc3,Qxc3,Re7', 'Qc5+,Kf1,Qxe7', 'https://lichess.org/training/4WgNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4WHDr', 'Rapid', 'apostrov13', 1654, 'jepoy', 1602, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d3,d6,h3,h6,a3,Be7,b4,Bd7,Bb3,O-O,c4,a6,Bb2,b5,Nc3,Nd4,Nxd4,exd4,Nd5,Nxd5,cxd5,Bf6,O-O,c5,dxc6,Bxc6,f4,Qe7,Qh5,Kh7,e5,dxe5,fxe5,Bxe5,Rae1,Rae8,Bxd4,Bxd4+,Kh1,Qxe1,Rxe1,Rxe1+,Kh2,Bg1+,Kg3,Re3+,Kf4,g5+,Kf5,Bd7+,Kf6,Re6+,Bxe6,fxe6+', 'Ke7,Kg7,Kxd7', 'https://lichess.org/training/4WHDr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4WhRu', 'Blitz', 'Mondesespoir2700', 2410, 'GABROF', 2398, 'e4,g6,d4,Bg7,c3,d5,e5,c5,f4,cxd4,cxd4,Nh6,Nc3,O-O,Nf3,Bg4,h3,Bxf3,Qxf3,Nc6,Be3,Nf5,Qf2,e6,g4,Nxe3,Qxe3,Qb6,O-O-O,Rfc8,Kb1,a5,Na4,Qb4,b3,b5,Nb6,a4,Nxa8,Rxa8,Qd2,axb3,Qxb4,bxa2+,Kb2,Nxb4,Bxb5,Bh6,g5,Bf8,Rh2,Rb8,Ba4,Nd3+,Kxa2,Nxf4,h4,h6,Rf2,hxg5,hxg5,Nh3,Rg2,Be7,Rc1,Rb4,Rc8+,Kg7,Be8,Rxd4,Rc7,Kf8,Bb5,Nxg5,Rh2,Rb4,Bc6,Rc4,Rh8+,Kg7,Rcc8,f6', 'Rcg8+,Kf7,Be8#', 'https://lichess.org/training/4WhRu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4wm7H', 'Rapid', 'Sugeng_Fingerstyle', 1971, 'Ayman78', 1736, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bf5,Bd3,Bxd3,Qxd3,Nf6,O-O,Be7,Qb5+,Nbd7,Qxb7,O-O,Nc3,Nb6,Re1,Bb4,Bg5,Bxc3,bxc3,Qd6,Ne5,Ne4,Bf4,g5,f3,gxf4,fxe4,dxe4,Qxe4,f6,Ng4,f5,Qf3,fxg4,Qxg4+,Qg6,Qf3,Qxc2,Re7,Qg6,Rxc7,Rae8,Kh1,Rf7,Rxf7,Qxf7,Rf1,Rf8,g3,fxg3,Qxg3+,Qg7,Rxf8+,Kxf8,Qb8+,Kf7', 'Qxa7+,Kg8,Qxb6', 'https://lichess.org/training/4wm7H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Wn3N', 'Rapid', 'Chandan123456789', 1813, 'Deepakmk', 1632, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd2,Bxc3,Bxc3,Nxe4,Bxg7,Rg8,Qd4,Qe7,Bxh6,Ng3+,Kd2,Nxh1', 'Re1,Qxe1+,Kxe1', 'https://lichess.org/training/4Wn3N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4WOh7', 'Blitz', 'CM abraadan', 2333, 'Top_Maths', 2351, 'd4,c6,c4,d5,Nc3,e6,Nf3,Nf6,Bg5,Qb6,Qb3,dxc4,Qxb6,axb6,e3,b5,a4,Nd5,Be2,Bb4,Kd2,f6,Bh4,Nd7,Rhb1,Kf7,Bg3,N7b6,e4,Ne7,axb5,Rxa1,Rxa1,cxb5,Bc7,Na4,Kc2,Nxc3', 'bxc3,Bxc3,Kxc3', 'https://lichess.org/training/4WOh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4woOL', 'Rapid', 'JollyBjol', 1934, 'pavelzem', 1960, 'e3,d5,d4,c5,c3,Nc6,Ne2,Bf5,g3,e6,Bg2,Nf6,a3,a5,O-O,b5,Nd2,a4,b3,Bd6,Nf3,Ne4,Nh4,Bg6,Nxg6,hxg6,Bxe4,dxe4,dxc5,Bxc5,Qxd8+,Rxd8,b4,Bb6,Ra2,Ne5,Kg2,Nc4,Nd4,Rd5,f3,exf3+,Rxf3,e5,Ne2,e4,Rf4,f5,Nd4,Kf7,Raf2,Kf6,Rxe4,Rh5,Re6+,Kf7,g4,Rg5,h3,Bxd4,exd4,Kxe6,Bxg5,Nxa3,Re2+,Kf7,Re7+,Kg8,Re8+,Kh7,Re7,fxg4,Bf6,gxh3+,Kxh3,Rh5+,Kg4,Nc4,Rxg7+,Kh6,Re7,Rf5,Rf7,Nd6,Rf8,Ne4', 'Rh8#', 'https://lichess.org/training/4woOL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4WpwS', 'Rapid', 'TrancheDeCitron', 1707, 'Magnus_Almendrado', 1734, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,Bg5,Be7,e3,O-O,Be2,dxc4,Bxc4,h6,Bh4,Na5,Bb3,Nxb3,Qxb3,a5,O-O,Bb4,Ne4,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,Rac1,a4,Qb4,Qd8,Ne5,f6,Nc4,Rf7,Na5,c6,Nc4,b5,Nd6,Rc7,Ne4,Qd5,Nc3,Qd7,Rfd1,Bb7,h3,Kf7,Qc5,Qe7,Qxe7+,Kxe7,Nxb5,Rd7,Nc3,Ra5,Rc2,c5,dxc5,Rxd1+,Nxd1,Be4,Rc4,Bd5,Rb4,Rxc5,Rxa4,Rc2,b3,Rc1,Rd4,Kd6,Kf1,e5,Rd2,Kc5,Ke2,Bxg2,Nb2,Bf1+,Kf3,Bxh3', 'Nd3+,Kc6,Nxc1', 'https://lichess.org/training/4WpwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Wq3k', 'Rapid', 'JakestheSnakes', 1660, 'ssssssssss29012901', 1917, 'c3,d5,Nf3,c5,d4,Nc6,dxc5,a5,Nd4,e5,Nxc6,bxc6,Be3,Nf6,Nd2,d4,cxd4,exd4,Bxd4,Qxd4,e3,Qxc5,Nc4,Be6,b3,a4,Be2,Be7,O-O,O-O,Qc2,axb3,axb3,Qg5,Rfd1,Bd5,f3,Bxc4,Qxc4,Qxe3+,Kh1,Nd5,Rxa8,Rxa8,Qxc6,Rd8,Rxd5,Rxd5', 'Qe8+,Bf8,Qxe3', 'https://lichess.org/training/4Wq3k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4WqMm', 'Blitz', 'horridhenry', 1503, 'Agadmater', 1547, 'c4,Nf6,d4,e5,Nc3,exd4,Qxd4,Nc6,Qd1,h6,Nf3,Bb4,Bd2,O-O,g3,b6,Bg2,Bb7,O-O,Re8,Re1,Bf8,e4,Ne5,Nxe5,Rxe5,Nd5,Nxd5,exd5,Rxe1+,Qxe1,c6,Bc3,cxd5,cxd5,Qg5,Qe5,Be7,f4,Qxe5,Bxe5,Bc5+,Kf1,d6,Bc3,Re8,b4', 'Ba6+,b5,Bxb5#', 'https://lichess.org/training/4WqMm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4WQZZ', 'Classical', 'xCheckmate1', 1966, 'bald_eaglenewton', 2055, 'e4,c5,Nc3,h6,f4,Nc6,Nf3,e6,Bb5,Nd4,Bc4,a6,O-O,b5,Be2,Bb7,d3,Ne7,a3,d5,e5,Ng6,Nxd4,cxd4,Nb1,Bc5,Qe1,Qh4,Qxh4,Nxh4,Nd2,Nf5,Nf3,Rc8,Bd2,O-O,Rac1,Rc6,Kh1,Rfc8,c3,dxc3,Rxc3,Ne3,Rxc5,Nxf1,Rxc6,Ng3+,hxg3,Bxc6,Bc3,Ra8,Nd4,Bd7,Bf3,a5,Kh2,Kf8,g4,Ke7,f5,Ra6,f6+,Kf8,fxg7+,Kxg7,Ne2,Be8,Nf4,Bc6,Nh5+,Kg6,Nf6,Ra8,Kg3,Kg5,Bd2+,Kg6,Kh4,a4,d4,b4,Bxb4,Bb5,Nh5,Rc8,Nf4+,Kg7,Bc3,Bc4,Bd1,Ra8,g5,hxg5+,Kxg5,Bb5,Bf3,Kf8,Kf6,Ra7,Bh5,Be8,g4,Kg8,Nxe6,Ra6,Ke7,Rxe6+,Kd8,Bb5,g5,Kg7,Kc7,Bc4,Bd1,Ra6,Kd7,Ba2,Ke7,Bc4,Bb4,Bd3,Bc3,Bc4,Bf3,Bb3,Be2,Ra7+,Kd6,Kg6,Bd2,Ra6+,Kc5,Ra8,Kd6,Kg7,Bf3,Rd8+,Kc5,Kg6,Kc6,Kf5,Kc5,Rc8+,Kd6,Ra8,Bc3,Kxg5,Bxd5', 'Rd8+,Ke7,Rxd5', 'https://lichess.org/training/4WQZZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4wUEP', 'Rapid', 'Safronov_Maksim', 1874, 'HugIsTaken', 1946, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,h6,Be3,Bb6,O-O,d6,h3,Be6,Bxe6,fxe6,Bxb6,axb6,a3,O-O,Nh4,Nxe4,Qg4,Nxc3,Qxe6+,Kh8', 'Ng6+,Kh7,Nxf8+,Qxf8,bxc3', 'https://lichess.org/training/4wUEP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4wvGf', 'Rapid', 'Ljubo72', 1930, 'chichess506', 1965, 'c4,c5,Nc3,Nc6,e4,e6,Nf3,Nf6,h3,Be7,e5,Ng8,d4,cxd4,Nxd4,Nxd4,Qxd4,d5,cxd5,exd5,Qxd5,Qxd5,Nxd5,Bd8,Bf4,Bd7,Rc1,Ne7,Nc7+,Bxc7,Rxc7,Nd5,Rc4,Bb5,Rd4,Bxf1,Rxd5', 'Bxg2,Rg1,Bxd5', 'https://lichess.org/training/4wvGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4WWXu', 'Rapid', 'MiraBelleLily', 1902, 'LeonardVictor', 1902, 'd4,Nf6,Nf3,d5,Bf4,c5,e3,e6,c4,cxd4,exd4,Nh5,Be3,Bb4+,Nc3,Bd7,Ne5,Nf6,Qb3,Qa5,Nxd7,Nbxd7,a3,Bxc3+,bxc3,Ne4,Bd2,Nxd2,Kxd2,O-O,Bd3,dxc4,Bxc4,Nf6,Rhe1,Qg5+,Kc2,Qxg2,Re2,Rac8,Bd3,Nd5,c4,Nf4,Rd2,Nxd3,Qxd3,Rfd8,Qe2,Qxh2,Rad1,Qf4,Kc3,Rd7,Rd3,b6,Rf3,Qc7,Rg1,Qd6,Rd3,Rdc7,Qg4,Rxc4+,Kd2,Rc2+,Ke3,g6,Qg3,Qxg3+,Rxg3,R8c3,Ke4,Re2+,Rde3,Rcxe3+,Rxe3,Rxe3+,fxe3,Kg7,Ke5,h5,e4,h4,d5,exd5,exd5,Kf8,Kd6,Ke8', 'Kc7,f6,d6,Kf7,d7', 'https://lichess.org/training/4WWXu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4WXjL', 'Rapid', 'tyazchenko', 1716, 'knightAB', 1769, 'e4,e6,Nf3,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Nc6,Nc3,Bd7,Bb5,Nf6,Be3,Rd8,Ke2,Bb4,Rad1,Bxc3,bxc3,Nxe4,Rd3,O-O,Rhd1,a6', 'Bxc6,Bxc6,Rxd8', 'https://lichess.org/training/4WXjL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4wY6S', 'Rapid', 'Iraq3000', 2022, 'Prash_KT', 2001, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Bb4,Nf3,c6,a3,Bxc3+,bxc3,Nbd7,cxd5,cxd5,e3,Qa5,Qb3,Ne4,Rc1,Nxg5,Nxg5,h6,Nf3,Nf6,Bd3,Ne4,Bxe4,dxe4,Nd2,Qd5,Qa4+,Bd7,Qb4,a5,Qb1,f5,c4,Qd6,O-O,O-O,f4,Qxa3,Qxb7,Qxe3+,Rf2,Qxd4,Nf1,Rfc8,h3,Bc6,Qe7,Qd7,Qh4,Qf7,Ne3,a4,Ra2,Ra7,Qf2,Rac7,g4,Bd5,Rac2,Bb7,gxf5,exf5,Rc3,Ba6,Qa2,a3,Qxa3,Bxc4,Qb4,Bd3', 'Rxc7,Rxc7,Qb8+', 'https://lichess.org/training/4wY6S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4x1qJ', 'Rapid', 'Pudex', 1948, 'VanHouten', 1890, 'd4,Nf6,c4,e5,dxe5,Ng4,f4,Bc5,Nh3,h5,Nc3,Qh4+,g3,Qe7,Qd3,h4,Ne4,hxg3,Qxg3,d6,Nxc5,dxc5,Ng5,Nc6,e3,Nb4,Qg2,Bf5,e4,Bd7,a3,Nc6,e6,Bxe6,Nxe6,Qxe6,Be2,Nf6,e5,Nh5,Bg4,Qxc4,Qf3,Nd4,Qxb7,Nc2+,Kd1,Rd8+,Bd2,Ne3+,Ke1,Nxg4,Qc6+,Kf8,Rc1,Qe6,Qxc5+,Qe7,Qxa7,Ng3', 'Bb4,Qxb4+,axb4', 'https://lichess.org/training/4x1qJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4X1S3', 'Blitz', 'pradesh007', 1621, 'Hussein3', 1524, 'd4,d5,Bf4,Nf6,e3,e6,c3,c5,Bd3,Nc6,Nd2,Be7,Qf3,Bd6,Qg3,Bxf4,Qxf4,c4,Bc2,Bd7,Qg3,g6,e4,dxe4,Bxe4,Qe7,f3,O-O-O,Nxc4,Nxe4,fxe4,f5,e5,g5,Nd6+,Kb8,h3,f4,Qf3,h5,Ne2,g4,hxg4,hxg4,Qf1,Na5,Rxh8,Rxh8,Qxf4,Rh1+,Kd2,Rxa1,Qxg4,Rxa2,Qg8+,Kc7,Kc2,Ba4+,Kb1,Bb3,Qc8+,Kb6', 'Qc5+,Ka6,Qb5#', 'https://lichess.org/training/4X1S3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4x1y1', 'Blitz', 'FM VladislavKrasikov_FM', 2622, 'IM Principatibus', 2605, 'd4,Nf6,c4,c5,d5,g6,Nc3,Bg7,e4,d6,Nf3,O-O,h3,e6,Bd3,exd5,cxd5,Re8,O-O,Nbd7,Bf4,c4,Bc2,Nc5,Nd2,b6,Re1,Ba6,a4,Rc8,Nb5,Bxb5,axb5,Qd7,Ra2,Nd3,Bxd3,cxd3,Qb3,Rc5,Qxd3,Rxd5,exd5,Rxe1+,Kh2,Nh5,Be3,Be5+,g3,f5,Nf3,Rh1+,Kxh1,f4,Nxe5,Qxh3+,Kg1,Nxg3,fxg3,Qxg3+,Kf1,fxe3,Ng4,Qf3+,Ke1,Qg3+,Ke2,Qxg4+,Kxe3,Qg3+,Kd4,Qf2+,Kc3,Qc5+,Qc4,Qe3+,Kb4,Qd2+,Kb3,Qe3+,Qc3,Qe2,Qc4,Qd1+,Kb4,Qe1+,Ka4,Qd1+,Qb3,Qd2,Ra1', 'Qa5#', 'https://lichess.org/training/4x1y1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4X25w', 'Rapid', 'Serega123qwe', 1975, 'gorizav', 1905, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Nc6,b3,e5,Bb2,f6,Bc4,Qe4+,Be2,Bg4,O-O,O-O-O,h3,Bh5,Re1,Qd5,Bc4,Bxf3,Qxf3,Qxf3,gxf3,Rxd2,Be6+,Kb8,Rad1,Rxd1,Rxd1,Bd6,c4,b6,a3,Re8', 'Bd7,Rd8,Bxc6', 'https://lichess.org/training/4X25w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4x2S1', 'Rapid', 'thorgsi', 1773, 'amirthr', 1780, 'e4,e5,Nf3,Nf6,d4,Nxe4,Nxe5,d6,Nf3,Be7,Bb5+,c6,Be2,O-O,O-O,d5,Re1,Bg4,Ne5,Bxe2,Qxe2,Bd6,Bf4,f6,Nd3,Bxf4,Nxf4,Qd6,Nh5,Nd7,Qg4,Rf7,f3,Ng5,h4,Ne6,Rxe6,Qb4,b3,c5,c3,Qb5,Na3,Qa5,Rae1,Qxa3,Re8+,Rxe8,Rxe8+,Nf8,Nf4,cxd4,Ne6,f5,Qg5,g6,Qh6,dxc3,Rxf8+,Rxf8', 'Qg7#', 'https://lichess.org/training/4x2S1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4x7LI', 'Rapid', 'Tchemr', 1722, 'cherm321', 1756, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nf6,Bd3,Nc6,Nf3,d5,e5,Nd7,O-O,Nb6,Nc3,Bd7,Re1,Qe7,Bg5,f6,exf6,gxf6,Bh4,O-O-O,Ne5,Qg7,Nxd7,Rxd7,Rxe6,Be7,Bf5,Kd8,Qg4,Qxg4,Bxg4,Rg8,Bh3,Nxd4,Rxe7,Kxe7,Re1+,Kf7,Bxd7,Nxd7,Nxd5', 'Nf3+,Kf1,Nxe1', 'https://lichess.org/training/4x7LI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4X8Fc', 'Rapid', 'Ace29', 1830, 'server102', 1829, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,e6,Bb5,Bd7,O-O,a6,Ba4,Nf6,Nxc6,Bxc6,Bxc6+,bxc6,Bg5,Be7,Qe2,O-O,Rad1,Qc7,Kh1,Rfe8,Nb1,a5,c4,e5,Nc3,Kh8,f4,Ng8,Bxe7,Nxe7,fxe5,dxe5,Rxf7,Rf8,Rdf1,Kg8,Rxf8+,Rxf8,Rxf8+,Kxf8,Qh5,h6,Qf3+,Kg8,Qg4,Qd6,Qe2,Qd4,h3,Nc8,Nd1,Nd6,b3,Nxe4,Qf3', 'Qxd1+,Qxd1,Nf2+,Kh2,Nxd1', 'https://lichess.org/training/4X8Fc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4XBaa', 'Blitz', 'Hasara_2020', 1642, 'owendavies', 1719, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd2,d5,b3,c6,Be2,Qa5,Qc2,Nbd7,Nf3,Ne4,O-O,Nxc3,Bxc3,Bxc3,Rac1,Bb4,Bd3,Nf6,Ne5,Be7,g4,g6,g5,Nd7,Nxd7,Bxd7,h4,Qc7,f4,Rad8,Rf2,Qc8,Rh2,Bd6,h5,Be8,hxg6,fxg6,Qf2,Rd7,Qh4,Rg7,Rf1,Bc7,Qg3,a5,Rh4,b5,c5,a4,b4,a3,Rf2,Qa8,Bc2,Bd7,Rfh2,Rff7,Qh3,Re7,Bxg6,Kf8,Bxh7,Qa4,Bc2,Qxb4,Rh8+,Rg8,Qh6+,Rg7,Qf6+,Rf7', 'Rxg8+,Kxg8,Qh8#', 'https://lichess.org/training/4XBaa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4XBaX', 'Blitz', 'Canbyte', 1579, 'Dom_P', 1585, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,bxc6,O-O,Bd6,c3,O-O,Re1,Bb7,d4,Re8,Bg5,c5,dxe5,Bxe5,Nxe5,Rxe5,Bxf6,Qxf6,Nd2,Qg6,Re3,Rg5,g3,Re8,Nf3,Rg4,Qxd7,Rgxe4', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/4XBaX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xCBn', 'Rapid', 'arxitector', 1861, 'cyklop23', 1778, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,Qb6,a4,cxd4,Bb5,Bd7,cxd4,a6,Bxc6,bxc6,O-O,Ne7,Ng5,h6,Nxf7,Kxf7,Qh5+,g6,Qf3+,Ke8,Qf6,Rg8,Be3,Bg7,Qh4,Nf5,Qg4,Kd8,Qxg6,Be8,Qxe6,Nxe3,fxe3,Rf8', 'Qd6+,Kc8,Rxf8,Bxf8,Qxf8', 'https://lichess.org/training/4xCBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4XCd1', 'Blitz', 'duarthes', 2004, 'ILG71', 1804, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Bf4,Bg4,Be2,Bxe2,Nxe2,e6,O-O,Bd6,Bg5,O-O,Nbc3,Nbd7,Ng3,c5,d5,Bxg3,fxg3,h6,Bh4,g5,dxe6,fxe6,Qd2,gxh4,Qxh6,hxg3,Qg6+,Kh8,Rf4,Rg8', 'Rh4+,Nh7,Qxh7#', 'https://lichess.org/training/4XCd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xDkR', 'Classical', 'Castelo', 1746, 'flph', 1879, 'd4,f5,Nf3,Nf6,e3,d6,c4,e5,dxe5,dxe5,Qxd8+,Kxd8,Nxe5,Be6,Bd3,Nbd7,Nxd7,Kxd7,O-O,Bd6,b3', 'Be5,Nc3,Bxc3', 'https://lichess.org/training/4xDkR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4XdTq', 'Rapid', 'safron', 1889, 'abc007', 1864, 'd4,g6,c4,Bg7,Nc3,e6,e4,Ne7,f4,b6,Nf3,Bb7,Bd3,Nbc6,Be3,Nb4,Bb1,d5,cxd5,exd5,e5,O-O,a3,Na6,Bd3,c6,Qd2,Rb8,O-O,f5,exf6,Bxf6,Ne5,c5,Bxa6,Bxa6,Rf3,c4,Ng4,Bg7,Ne5,Bb7,g4,Qc8,Qg2,Nc6,Raf1,Nxe5,fxe5,a6,Rh3,Qe6,Ne2,Rxf1+,Kxf1,Rf8+,Kg1,Bc8,Rg3,h6,Nf4,Qf7,Qxd5,Qxd5,Nxd5,g5,Nxb6,Bb7,Nd7,Re8,Bd2,Bc6,Nf6+,Bxf6,exf6,Kf7,Re3,Rb8,Bc3,Re8,Kf2,Bd5,Re5,Rd8,Rf5,Rd6,Bb4,Rd8,Ke3,Re8+,Re5,Be6,Kf3,Kxf6,d5,Bxg4+,Kxg4,Rxe5', 'Bc3,Kf7,Bxe5', 'https://lichess.org/training/4XdTq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xjyK', 'Rapid', 'smit_18', 1516, 'samuelboudier', 1532, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,e6,d4,c5,dxc5,Bxc5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,h3,O-O,Bf4,Rad8,Qe2,Qb4,Be3,Bxe3,Qxe3,Qxb2,Qxa7,Qxc3,Qxb7,Qxc2,Qb1,Qxb1,Raxb1,Nc5,Ne5,Rd2,a3,Nfe4,Nc4,Rd4,Ne5,Rfd8,Nc6,Nd2,Nxd4,Nxb1,Rxb1,f5,Nc6,Rd3', 'Rb8+,Kf7,Ne5+,Ke7,Nxd3', 'https://lichess.org/training/4xjyK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xKpS', 'Blitz', 'annisa_zahwa', 1995, 'Bloodofheroes', 1627, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,f3,e5,Nb3,Be7,Qd2,O-O,O-O-O,b5,Be3,Bb7,Kb1,Rc8,g4,b4,Ne2,a5,Nec1,a4,Na1,b3,cxb3,axb3,Naxb3,Qc7,h4,Nxe4,fxe4,Bxe4+,Bd3,Nf6,Bxe4,Nxe4,Qd3,Nf6,Bg5,e4,Qe2,Rfe8,Nd4,h6,Bxf6,Bxf6,g5,hxg5,hxg5,Bxd4,Rxd4,Qc6,Qh2,f6,g6,Kf8,Qh8+,Ke7,Qxg7+,Ke6,Qf7+,Ke5,Rhd1', 'Qc2+,Ka1,Qxc1+,Rxc1,Rxc1#', 'https://lichess.org/training/4xKpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4XKye', 'Rapid', 'juanmcj7', 1692, 'siboo', 1683, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,e5,Ne4,Qe2,Ng5,Nc3,Bc5,h3,O-O,d3,Ne6,Ne4,Bb6,Be3,Nd4,Qd2,Bf5,Bg5,Qd7,c3,Bxe4,dxe4,c5,cxd4,cxd4,Bc4,Qc6,Bd5,Qb5,Bxb7', 'Ba5,Qxa5,Qxa5+', 'https://lichess.org/training/4XKye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xlUV', 'Rapid', 'valter48', 1695, 'MrShooko', 1701, 'c4,c5,e3,Nc6,a3,Nf6,Nc3,g6,d3,Bg7,Qd2,O-O,b3,Na5,Qc2,Qb6,Rb1,d6,b4,Nc6,b5,Na5,a4,Bf5,Qd2,Bh6,Nf3,Qc7,g3,b6,Bg2,Rae8,O-O,Qd7,Rb2,e6,Nh4,d5,Nxf5,exf5,Nxd5,Nxd5,Bxd5,Nb7,Bc6,Qe7,Bxe8,Rxe8,Re1,Nd6,Qd1,Rd8,Qb3,Bg7,Rbe2,h6,Bb2,f6,d4,Ne4,d5,h5,Rd1,Ng5,Qc2,Re8,d6,Qb7,d7', 'Nh3+,Kf1,Qh1#', 'https://lichess.org/training/4xlUV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xMSM', 'Blitz', 'tssuunnaammi', 2180, 'kjeksen', 2193, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bg5,Be7,e3,O-O,Bd3,Nbd7,Nge2,b6,Qc2,Bb7,O-O,Re8,Rfd1,Ne4,Bxe4,dxe4,Bxe7,Qxe7,Rac1,c5,d5,Nf6,d6,Qd7,Rd2,Re6,Rcd1,Rd8,Nf4,Re5,h3,Qf5,Qa4,a6,b4,c4,b5,axb5,Qb4,g5,Nfe2,g4,Nd4,Qg5,h4,Qxh4,Nce2,Rh5,Ng3,Qh2+,Kf1,Nd5,Qa3,b4,Qa7,Qh1+,Nxh1', 'Rxh1+,Ke2,Nc3#', 'https://lichess.org/training/4xMSM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4XnS5', 'Rapid', 'ABOURAWI', 1836, 'adrianio02', 1902, 'e4,c6,f4,d5,Nf3,dxe4,Ng5,Bf5,Nc3,Nf6,Bc4,e6,Qe2,Bd6,Ngxe4,Bxf4,O-O,Bc7,Rxf5,Nxe4,Qxe4,O-O,Rh5,g6,Rh3,Nd7,d4,Nf6,Qd3,Nh5,Bh6,Re8,Rf1,a5,Ne4,b5,Rxh5,bxc4,Qxc4,gxh5,Nf6+,Kh8,Nxe8,Qxe8,Qc3,Kg8,d5,e5,dxc6,Qe6,Qe3,Qxc6,Rf3,Bb6', 'Rg3+,Kh8,Bg7+', 'https://lichess.org/training/4XnS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4XoAm', 'Bullet', 'Thomas_L', 1815, 'Conductor-Rus', 1826, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,a6,Bf4,b5,Bb3,b4,Na4,Nf6,e5,Nd5,Bg3,Bb7,Bxd5,exd5,Qxd5,Qa5,Qxa5,Nxa5,Rc1,b3,a3,Bd5,Nb6,Bxf3,Nxa8,Bxa8,Rc8+,Ke7,Rxa8,Ke6,Rxa6+,Nc6,Ra8,h5,O-O,g6,f4', 'Bc5+,Bf2,Bxf2+,Kxf2,Rxa8', 'https://lichess.org/training/4XoAm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4XQqO', 'Rapid', 'Digi017', 1652, 'ritschie', 1651, 'd4,d5,c4,c6,Nc3,e6,Qb3,Bd6,Nf3,f6,c5,Bc7,a3,Ne7,Qc2,O-O,b4,e5,e3,e4,Nd2,f5,b5,f4,a4,fxe3,fxe3,Nf5,Nb3,Qh4+,Kd1,Nxe3+,Bxe3,Bxh2,Bf2,Bg4+,Kc1,Bf4+,Kb2,Qxh1,bxc6,bxc6,Nxe4,dxe4', 'Bc4+,Kh8,Rxh1', 'https://lichess.org/training/4XQqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xqsr', 'Rapid', 'ATTERAMPLUS', 1776, 'Passarim', 1839, 'e4,c6,Nc3,d5,e5,Bf5,f4,e6,Nf3,a6,Bd3,Bxd3,cxd3,Bc5,Ne2,Qb6,d4,Be7,O-O,f6,Ng3,Nh6,d3,c5,Nh5,O-O,f5,cxd4,Bxh6,gxh6,exf6,Bxf6,Nxf6+,Rxf6,fxe6,Rxe6,Nh4,Nd7,Qf3,Nf6,Nf5,Re3,Nxh6+,Kh8,Qxf6+,Qxf6,Rxf6,Kg7,Rd6,Rf8,g4,Re2,Nf5+,Kh8,Rxd5,h5,Ng3,Rxb2,Rxh5+,Kg7,Nf5+,Kg6,Nxd4,Rf4,Nb3', 'Rxg4+,Kh1,Kxh5', 'https://lichess.org/training/4xqsr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4XSAz', 'Rapid', 'Roland2036', 1839, 'TheIodio91', 1840, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,d3,Nf6,c3,Nc6,Nbd2,Na5,Qa4+,Nc6,g4,Bg6,Nh4,Be7,Nxg6,fxg6,Qb3,Nd7,Qxb7,Na5,Qa6,Nxc4,Qxc4,Nf6,Qc6+,Qd7,Qxa8+,Bd8,Qxa7,O-O,Nc4,Qf7,Bd2,Nxe4,dxe4,Qxc4,O-O-O,Qxe4,Qe3,Qa4,Kb1,Be7,Qd3,Kh8,Be3,Ra8,Qd5,Bf8,f4,c6,Qb3,Qe4+,Ka1,Qxe3,fxe5,Qxe5,Rhe1,Qa5,a3,Qc7,h4,d5,h5,Rb8,Qc2,Qa7,hxg6,Bxa3,bxa3', 'Qxa3+,Qa2,Qxc3+,Qb2,Qxb2#', 'https://lichess.org/training/4XSAz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4XSEi', 'Rapid', 'Faano', 2076, 'toto639', 1995, 'c4,Nf6,Nf3,d6,Nc3,Bf5,d3,e5,g3,Be7,Bg2,Nc6,O-O,O-O,b3,h6,Bb2,Bg6,Rc1,Rb8,a4,Qd7,d4,exd4,Nxd4,Rfe8,Nxc6,bxc6,Qd4,Rxb3,Ne4,c5,Nxc5,dxc5,Qxd7,Nxd7,Bc6,Rxb2,Bxd7,Rd8,Bg4,Rb4,Rfd1,Rxd1+,Rxd1,Rxc4,Rd7,Bd6,Rd8+,Kh7,Bd7,Rc1+,Kg2,c4,f4,f5,Be6,Bh5,h3,Rc2,Bxf5+,Bg6,Bg4,Be4+,Kf1,c3,Be6,Bg2+,Ke1,Rc1+,Kf2,Bf1,f5,Bc5+,Kf3,h5,h4,Re1,Bf7,Bxe2+,Kg2,Rg1+,Kh2,c2', 'Bg6+,Kh6,Rh8#', 'https://lichess.org/training/4XSEi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xsmC', 'Rapid', 'hicetnunc', 2057, 'DerWuki', 1882, 'd4,Nf6,Nf3,e6,Bg5,Be7,Nbd2,c5,e3,cxd4,exd4,d5,Bd3,Qb6,Rb1,Nc6,c3,Qa5,a3,h6,Bh4,Nh5,Bxe7,Nxe7,Ne5,Nf4,Bf1,Neg6,Ndf3,Nxe5,Nxe5,f6,Nf3,Bd7,g3,Ng6,Nd2,Ke7,Bd3,f5,Qe2,Raf8,O-O,Kd8,Nb3,Qc7,Nc5,Rf6,f4,b6,Na6,Qd6,Rfd1,Ne7,c4,g5,c5,Qc6,Qe5,Rhf8,cxb6,Qxb6,Nb4,Nc6,Nxc6+,Qxc6,Qb8+,Ke7,Qxa7,gxf4,gxf4,Rg6+,Kh1', 'Ra8,Qxa8,Qxa8', 'https://lichess.org/training/4xsmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xSoo', 'Blitz', 'FM SquashMaestro', 2349, 'Denisik_Sergei', 2022, 'e4,e5,d4,Nc6,Nf3,exd4,Nxd4,Nf6,Nxc6,dxc6,Qxd8+,Kxd8,Bg5,Be7,Nc3,h6,O-O-O+,Ke8,Bf4,Ng4,Bg3,Be6,h3,Nf6,Bxc7,Rc8,Bg3,Bb4,Nb1,Nxe4,a3,Nxg3,fxg3,Ba5,Bd3,Ke7,Rhe1,Rcd8,c3,Bc7,g4,Rhe8,Kc2,Kf8,Nd2,Bd5,Ne4,Bxe4,Bxe4,Rxd1,Kxd1,Rd8+,Kc2,Bb6,Bf3,Re8,Rxe8+,Kxe8,c4,Bc7,b4,Kd7,Kd3,b6,Ke4,Kd6,h4,Bd8,h5,Bg5,Kf5,Bc1,a4,Bd2,b5,cxb5,axb5,Ke7,Bd5,Be3,Ke4,Bc5,Kf5,Kd6,g5,hxg5,Kxg5,Ke7,h6,gxh6+,Kxh6,f6,Kg6,Bd4,Kf5,Kd6,g4,Kc5,g5,fxg5,Kxg5,Kb4,Kf5,Ka5,Ke4,a6', 'bxa6,Kxa6,Kxd4', 'https://lichess.org/training/4xSoo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xum2', 'Classical', 'Labun', 1693, 'SockaM', 1744, 'Nf3,Nf6,h3,g6,d4,Bg7,Bf4,d6,e3,O-O,Nc3,Nbd7,Bd3,b6,g4,Bb7,Rg1,c5,Qe2,Re8,O-O-O,a6,g5,Nh5,h4,Nxf4,exf4,cxd4,Nb1,e5,fxe5,dxe5,Be4,Qc7,Bxb7,Qxb7,Na3,b5,Rge1,Rac8,Qe4,Qc6,Qxc6,Rxc6,Nxd4,Rd6,Ndxb5,Rxd1+,Rxd1,Nc5,Nc3,f6,gxf6,Bxf6,Nd5,Bxh4,Nc4,e4,Nce3,Rf8,b4,Ne6,Rf1,Rxf2,Rxf2,Bxf2,Ng4,Bd4,c3,Bg7,Kd1,h5,Ngf6+,Bxf6,Nxf6+,Kf7,Nxe4,h4,a4,h3,Ke2,h2,Ng3,Ng5,Kf2', 'Ne4+,Kg2,Nxg3', 'https://lichess.org/training/4xum2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xUt8', 'Rapid', 'antabus08', 1726, 'rakeshappu7', 1726, 'e4,e5,Nf3,d6,h3,a6,Bc4,h6,d4,Nc6,Be3,Nf6,Nbd2,Na5,Be2,Nc6,c4,b5,d5,Nd4,Nxd4,exd4,Bxd4,bxc4,Nxc4,c5,Bxf6,Qxf6,O-O,Qg6,Qc2,Bxh3,Bf3,h5,Nb6,Rb8,Qa4+,Kd8,Nc4,Bd7,Qxa6,h4,Qa7,Rb5,Nb6,Bh3,a4,Rb3,a5', 'Rxf3,Qb8+,Ke7', 'https://lichess.org/training/4xUt8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xwKG', 'Blitz', 'lion_yehuda', 1731, 'JuanAdame1234', 1745, 'e4,e5,Bc4,Nf6,d3,Nc6,Ne2,Bc5,O-O,O-O,Nbc3,d6,a3,a6,Nd5,b5,Ba2,Nxd5,Bxd5,Bb7,c3,Rb8,c4,Nd4,Nxd4,Bxd4,Rb1,Bxd5,exd5,bxc4,dxc4,a5,b3,f5,Kh1,Qh4,f3,Rf6,Bd2,f4,Be1', 'Qxh2+,Kxh2,Rh6+,Bh4,Rxh4#', 'https://lichess.org/training/4xwKG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xxu2', 'Classical', 'tolya622', 1884, 'fizjaz', 1834, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Na5,Nxe5,d6,Nxf7,Qe7,Nxh8,Nxc4,d3,Ne5,f4,Bg4,Ne2,Bxe2,Qxe2,Ned7,e5,dxe5,fxe5,Qxe5,Qxe5+,Nxe5,Bf4,Bd6,d4,Nd3+,cxd3,Bxf4,O-O,Bg5,Rae1+,Kf8,g3,Rd8,h4,Bh6,g4,Rxd4,g5,Rg4+,Kh2,Rxh4+,Kg3,Rg4+,Kh3,Rxg5,Re2,Rg4', 'Rxf6+,gxf6,Kxg4', 'https://lichess.org/training/4xxu2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4XxW1', 'Rapid', 'hmdi', 1745, 'balous', 1777, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,c5,a3,Bxc3+,bxc3,cxd4,cxd4,h6,Bf4,d5,Nf3,O-O,e3,Ne4,Bd3,Qa5+,Nd2,Nc6,Bxe4,dxe4,O-O,f5,Nb3,Qa6,Qc2,b6,c5,Bb7,a4,Nb4,Qc3,Nd3,Bd6,Rfc8,h3,Bd5,Rfb1,Bxb3,Qxb3,bxc5,Qxe6+,Kh8,Qe7,cxd4,Rb7,Rg8,exd4,Qa5,Be5,Nxe5,dxe5,Rae8,Qf7,Qxe5,Rc1,e3,Rcc7,exf2+,Kxf2,Qe2+,Kg1,Qe1+,Kh2,Qe5+,Kg1,f4,Qg6,Qe1+,Kh2,Qe5', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/4XxW1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xz8j', 'Rapid', 'Tinkerfan', 1785, 'Deniz_Koc', 1698, 'e4,e5,c3,Nc6,d4,exd4,Nf3,Nf6,e5,Qe7,cxd4,d6,Be2,dxe5,O-O,e4,Ne5,Nxe5,dxe5,Qxe5,Re1,Bf5,Nc3,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/4xz8j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4xZTB', 'Rapid', 'SonnovaBishop', 1691, 'AmineTag', 1704, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Nc3,Ngxe5,Nxe5,Nxe5,Bf4,d6,c5,Qe7,cxd6,cxd6,e4,Bg4,Qb3,b6,Nd5,Qb7,Rc1,Rc8,Rxc8+,Qxc8,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Nc5,Qb5+,Qd7,Qc4,Be7,Nxe7,Qxe7,Qb5+,Nd7,Rd1,O-O,Bxd6,Qxe4,Bxf8,Nxf8,h3,Qc2,Rd8,Qc1+,Kh2', 'Qc7+,g3,Qxd8', 'https://lichess.org/training/4xZTB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Y58e', 'Blitz', 'joxe77', 1753, 'KFerapont', 1913, 'd4,e5,dxe5,Nc6,Nf3,d6,exd6,Bxd6,g3,Bg4,Bg2,Qe7,O-O,O-O-O,Nbd2,h5,Qe1,Nf6,Nh4,g5,Nhf3,Bxf3,Bxf3,g4,Bxc6,bxc6,Nc4,h4,Bg5,hxg3,fxg3,Bc5+,e3,Qe4,Bxf6,Qxc4,Bxh8,Rxh8,Rf4,Qe6,Kg2,Bxe3,Rd1,Rxh2+,Kxh2', 'Qh6+,Kg2,Qh3#', 'https://lichess.org/training/4Y58e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4y5l7', 'Classical', 'Tim_T', 1655, 'trifo221', 1632, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,d6,h3,h6,Na4,Nxe4,d3,Nf6,Nxc5,dxc5,Re1,Qd6,Bf4,O-O,Nxe5,Nxe5,Bxe5,Qc6,a4,a6,c3,b6,Re3,Bb7,f3,b5,axb5,axb5,Rxa8,Rxa8,Bxf6,Qxf6,Bxb5,Qg5,Re8+', 'Rxe8,Bxe8,Qe3+', 'https://lichess.org/training/4y5l7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4yAAw', 'Blitz', 'PineappleBrah', 1866, 'RobFirst', 1843, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,h3,Be7,f4,O-O,f5,Bd7,g4,Re8,Be3,c5,Qd2,a6,g5,Nh5,Rg1,b5,Be2,g6,f6,Bf8,Bxh5,gxh5,Qe2,b4,Nd5,Be6,O-O-O,Qa5,Qxh5,Qxa2,g6,fxg6,Rxg6+,hxg6,Qxg6+,Kh8,Rg1,Qa1+,Kd2,Qxb2,f7,Bxf7,Qxf7,Bh6,Qf6+,Qxf6,Nxf6,Rf8', 'Bxh6,Rxf6,Bg7+,Kh7,Bxf6', 'https://lichess.org/training/4yAAw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Ygtk', 'Rapid', 'egy010', 1730, 'Dimasindo', 1743, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,Bb4,Bd3,Bxc3+,bxc3,d5,exd5,Nxd5,Bc4,Nxc3,Bxf7+,Kxf7,Qxd8,Rxd8,Bb2,Nd5,O-O,e4,Ng5+,Kg8,Nxe4,Bf5,Nc5,b6,Nd3,Bxd3,cxd3,Nf4,Rac1,Ne2+,Kh1,Nxc1,Rxc1,Ne5,Bxe5,Rxd3,g3,Rd2,Rc7,Rxf2,Rxg7+,Kf8,Rxh7,Rxa2', 'Rh8+,Kf7,Rxa8', 'https://lichess.org/training/4Ygtk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Yh5u', 'Rapid', 'Tee_Woo', 1702, 'Khtengiz', 1702, 'e4,e5,Nf3,a6,d4,d6,d5,Bg4,Nc3,Bxf3,Qxf3,Nd7,Bc4,Ngf6,Bg5,Be7,O-O,O-O,Qh3,b5,Bd3,Ne8,Bxe7,Qxe7,f4,f6,fxe5,fxe5,Rxf8+,Nxf8,Rf1,Ng6,Be2,Nf6,Bh5', 'Nf4,Rxf4,exf4', 'https://lichess.org/training/4Yh5u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4yheh', 'Rapid', 'Night2950', 2407, 'tibi23', 2272, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nde2,Be6,g4,h6,Bg2,Be7,O-O,Nbd7,Ng3,g6,Be3,b5,Qd2,h5,g5,Nh7,h4,f6,f4,exf4,Bxf4,O-O,Rad1,Ne5,Nd5,fxg5,hxg5,Bxg5,Qd4,Bxf4,Nxf4,Bc4,Rf2,Qg5,Nge2,Rad8,Rdf1,Nf6,b3,Nfg4,Nh3,Qh4,Rxf8+,Rxf8,Rxf8+,Kxf8,bxc4', 'Qe1+,Bf1,Nf3+', 'https://lichess.org/training/4yheh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4yn9Z', 'Rapid', 'Aknownmoose', 1770, 'DrGregoire', 1672, 'e4,Nf6,e5,Nd5,Nf3,d6,exd6,cxd6,d3,g6,Bd2,Bg7,c3,O-O,Be2,b6,Qc1,Re8,Bh6,Bf6,Bg5,Bg7,O-O,Bb7,c4,Nb4,Qd2,N4a6,Nc3,Nd7,d4,Qc7,Nb5,Qc6,a3,d5,b3,e5,dxe5,dxc4,Bxc4,Rxe5,Rac1,Rxb5,Bxf7+,Kxf7,Rxc6,Bxc6,Qf4+,Rf5,Qc4+,Bd5,Qxa6,Bxf3,gxf3,Rxg5+,Kh1,Re8,Qxa7,Re7,Qb7,Nf6,Qxb6,Nd5,Qc5,Rh5,Qc4,Ree5,f4,Ref5,Rd1,Rxf4,Qc2,Rhf5', 'Rxd5,Rxd5,Qc7+,Ke6,Qxf4', 'https://lichess.org/training/4yn9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4YNT6', 'Rapid', 'trend19', 1786, 'yafura', 2190, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,a3,Bd6,Bd3,Nf6,h3,O-O,Nge2,b5,O-O,a5,f4,Nbd7,Ng3,Re8,Nce2,Ne4,c3,Ndf6,Rf3,Bd7,f5,Qe7,Bf4,Bxf4,Rxf4', 'Nxg3,Nxg3,Qe3+,Rf2,Qxg3', 'https://lichess.org/training/4YNT6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4yQJX', 'Blitz', 'shishira3009', 1569, 'olegdonn', 1584, 'e4,e5,Nf3,d6,Nc3,a6,h3,h6,Bc4,Nc6,Nd5,Be6,d4,exd4,Nxd4,Ne5,Nxe6,fxe6,Ne3,Nxc4,Nxc4,Nf6,Nd2,e5,b3,Qd7,Bb2,Qb5,Qe2,Qxe2+,Kxe2,O-O-O,Rhd1,Nh5,Kf1,Be7,Nf3,Bf6,Bc3,g5,Nh2,Nf4,Ng4,Be7,g3,Nxh3,Kg2,h5,Kxh3,hxg4+,Kxg4,Rh2,Rf1,Rf8,Bd2,Rfxf2,Rxf2,Rxf2,Bxg5,Bxg5,Kxg5,Rxc2,Rg1,Kd7,Kf6,Rxa2,g4,Rf2+,Kg7,Ke7,g5,c5,Kh6,Kf7,g6+,Kg8,g7,Rf6+,Kg5,Rf7,Kg6,b5,Kh6,Rf6+,Kg5,Rf7,Kh6,Rf4,Rg6,Rh4+,Kg5,Rxe4,Kf6,Rf4+,Ke7,d5,Rh6,Rf7+,Ke8,Kxg7,Rxa6,e4,Rd6,d4,Re6,e3,Rc6,e2,Re6,d3,Re3,d2,Rg3+,Kh8', 'Kxf7,e1=Q,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/4yQJX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Yuus', 'Blitz', 'Symplectomorphism', 2268, 'IM italian5', 2411, 'c4,e6,Nc3,c5,Nf3,Nf6,g3,b6,Bg2,Bb7,O-O,Be7,d4,cxd4,Qxd4,d6,Rd1,a6,b3,Nbd7,Bb2,Qc7,Rac1,O-O,Ng5,Bxg2,Kxg2,Rfd8,f3,h6,Nge4,Ne8,Nf2,Qb7,Ng4,Ndf6,Ne3,b5,Qf4,Rac8,Ne4,Nxe4,Qxe4,Qxe4,fxe4,Bg5,Kf3,bxc4,Rxc4,Rxc4,Nxc4,Be7,Ne3,a5,Nc4,Ra8,Bc3,a4,Nb6,Ra6,Nxa4,Rc6,Be1,Rc2,Bb4,Rxa2,e5,g5,exd6,Bd8,Rc1,Nf6,Rc8,Kg7,Rxd8,Nd5,Bc5,Rc2,b4,f5,e4', 'g4#', 'https://lichess.org/training/4Yuus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Yvwq', 'Classical', 'Michael-Westen', 2221, 'QueenForAKing', 2219, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Nc6,Bc4,d6,Qe2,Nf6,O-O,Be7,Rd1,e5,Bg5,O-O,Nb5,a6,Bxf6,Bxf6,Nc3,Be6,Nd5,Bg4,Qe3,b5,Be2,Bxf3,Bxf3,Nd4,Rac1,Bg5,Qd3,Bxc1,Rxc1,Rc8', 'Rxc8,Qxc8,Ne7+,Kh8,Nxc8', 'https://lichess.org/training/4Yvwq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Yw1o', 'Rapid', 'profOpt', 1645, 'Profbi', 1618, 'e4,g6,d4,Bg7,e5,b6,Bb5,Bb7,Nf3,a6,Ba4,b5,Bb3,e6,Bg5,Ne7,O-O,h6,Bxe7,Qxe7,Re1,O-O,Nc3,d6,Ne2,dxe5,dxe5,Bxf3,gxf3,Qg5+,Ng3,Bxe5,Kh1,Nc6,c3,Rad8,Qc1,Ne7', 'Qxg5,hxg5,Rxe5', 'https://lichess.org/training/4Yw1o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4z3t2', 'Rapid', 'Leonardo_Chess', 2068, 'deep-forest', 1917, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,Bc4,Be7,O-O,c6,a4,Qc7,Qe2,h6,h3,g5,Nh2,Nf8,g3,Bxh3,Rd1,Be6,Nf3,Bg4,Kg2,Ng6,Qe3,Nh5,dxe5,dxe5,Rh1,Nhf4+,gxf4,gxf4,Qe2,Nh4+,Rxh4,Bxh4,Qd3,Rd8,Nd5,cxd5,Bb5+,Bd7,Nxh4,Rg8+,Kf1,dxe4,Qxe4,Bxb5+,axb5,Rd1+,Ke2,Rgg1,Nf3,Rxc1,Nxg1,Rxa1,Nf3,Rc1,Kd2,Rh1,Nxe5,Qd6+', 'Nd3+,Qe6,Qxh1', 'https://lichess.org/training/4z3t2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Z6oa', 'Rapid', 'elephantologist', 1782, 'irfano6', 1810, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,Re1,Be7,h3,Bd7,c3,a6,Ba4,b5,Bc2,O-O,d4,exd4,cxd4,Qc8,a3,g6,Bh6,Re8,d5,Ne5,Nc3,Bxh3,Nxe5,dxe5,Qf3,Qg4', 'Qxh3,Qxh3,gxh3', 'https://lichess.org/training/4Z6oa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4zbGl', 'Blitz', 'maleficente', 1707, 'ZabuzaKisame', 1711, 'e4,b6,Nf3,Bb7,Nc3,d6,d4,Nf6,Bd3,Nbd7,O-O,e5,dxe5,dxe5,Bg5,Be7,Bxf6,Bxf6,Nd5,O-O,Nxf6+,Nxf6,Re1,Re8,Qd2,Qe7,Nh4,g6,f3,Rad8,Qg5,Qc5+,Kh1,Nh5,Nf5,Nf4,Nh6+,Kg7,h4,Qf2,Bc4,f6', 'Nf5+,Kh8,Qxf6#', 'https://lichess.org/training/4zbGl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ZBKX', 'Rapid', 'SoiyoTumachito', 1781, 'krishna-p', 1746, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,e6,a3,g6,Nf3,Bg7,O-O,O-O,Re1,b6,Nbd2,Bb7,Rb1,Nc6,b4,Ne7,Ba2,Nf5,Nb3,Ne4,Bb2,Nh4,Nxh4,Qxh4,Qc2,Bh6,f3,Ng5,Qf2,Nxf3+,gxf3,Qg5+,Kf1,Qh5,e4,f5,e5,Bf4,h4,Bxf3,Bc1,Qg4,Bxf4', 'Qh3+,Kg1,Qh1#', 'https://lichess.org/training/4ZBKX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ZDlq', 'Rapid', 'maisal', 1706, 'bonfjols', 1730, 'g3,e6,Bg2,d5,Nc3,Bc5,a3,Nf6,b4,Bb6,Na2,Bd7,c3,Bb5,Nf3,Nbd7,O-O,O-O,a4,Bc4,a5,Bxa2,Rxa2,Bxf2+,Rxf2,e5,Ba3,Ng4,Rf1,e4,Nd4,Qg5,Bh3,f5,Bxg4,Qxg4,e3,Rf6,b5,Qh3,Rf4,g5,Rf2,Ne5,Rg2,Ng4,Be7,Rg6,Nxf5,Nxh2,Rxh2,Qxf5,Qh5,Rg7,Rf2,Qe6,Bxg5,d4,Rc2,Qd5,cxd4,Rxg5,Qh6,Rxg3+,Kf1,Rg6,Qh2', 'Qxb5+,Ke1,Qb1+,Ke2,Qxc2', 'https://lichess.org/training/4ZDlq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4zERy', 'Rapid', 'Motobecane', 1910, 'Dubinstein', 1901, 'd4,d5,Bf4,Bf5,c3,Bxb1,Rxb1,Nd7,e3,c6,Nf3,f6,h3,e6,Bd3,Ne7,Qc2,Kf7,e4,Ng6,Bh2,dxe4,Bxe4,e5,Qb3+,Ke8,Qxb7,exd4,Nxd4,Rb8,Qxc6,Rb6,Qd5,Ne7,Qh5+,g6,Qe2,f5,Bc2,Nc5,O-O,Bg7,Qc4,Bxd4,Qxd4,Qxd4,cxd4,Ne6,Be5,Rf8,Ba4+,Kf7,Rbc1,Rd8,Rfd1,Nd5,Bb3,Ke7,Rc2,a5,Rdc1,Nb4,Bxe6,Nxc2,Rxc2,Kxe6,Bc7,Rc8', 'Re2+,Kd7,Bxb6', 'https://lichess.org/training/4zERy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ziGB', 'Rapid', 'chekovs', 1889, 'MrN0b0dy227', 1827, 'e4,c5,Bc4,e6,Nf3,a6,a4,Be7,d3,d5,exd5,exd5,Bb3,Nf6,O-O,O-O,c3,Bg4,Re1,Nc6,h3,Bh5,Nbd2,Rc8,Nf1,Bd6,Ng3,Bxg3,fxg3,b5,g4,Bg6,Nh4,c4,Nxg6,fxg6,Bc2,Qc7,axb5,axb5,Rf1,cxd3,Bxd3,Ne5,Bxb5,Qc5+,Qd4,Qxb5,Qxe5,Rfe8,Qd4,Re4,Qa7,Rce8,Bd2,Re2,Rae1,Qxb2,Rxe2,Rxe2,Qa8+,Re8,Bc1,Qxc1', 'Qxe8+,Nxe8,Rxc1', 'https://lichess.org/training/4ziGB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ZKtc', 'Rapid', 'aethernaut', 1980, 'maratkostrov', 1905, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f3,Nc6,g4,h6,Qd2,d5,exd5,Nxd5,Nxd5,Bxd5,Bg2,Rc8,O-O-O,Nb4,c3,Nxa2+,Kb1,Bxb3,Qf2,Qa5,Bb6,Nxc3+,bxc3,Qxc3,Rhe1,Be7,Re3,Qb4,Qd2,Qxb6', 'Qd7+,Kf8,Qxc8+', 'https://lichess.org/training/4ZKtc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4ZPen', 'Rapid', 'skolem', 2036, 'Rajender_Sharma', 1712, 'e4,c5,Nf3,Nc6,g3,e6,Bg2,d5,e5,Qc7,Qe2,Nge7,d3,Ng6,Bf4,Be7,Nbd2,a5,c3,b5,h4,O-O,h5,Nxf4,gxf4,h6,d4,f6,Nh4,cxd4,Ng6,dxc3,bxc3,Rd8,Nxe7+,Nxe7,exf6,gxf6,Rg1,f5', 'Bxd5+,Kf7,Bxa8', 'https://lichess.org/training/4ZPen');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4zQhu', 'Blitz', 'RussellHudgins', 1586, 'MarcoMate', 1711, 'e4,e5,Nc3,Bb4,Nge2,Nf6,a3,Ba5,b4,Bb6,Bb2,O-O,Na4,Re8,Nxb6,axb6,d3,d5,exd5,Nxd5,c4,Nf4,Nxf4,exf4+,Be2,Bg4,f3,Qh4+,Kf1,Bf5,Bd4,Nc6,Bf2,Qe7,d4,Nxb4,axb4,Rxa1,Qxa1,Qxe2+,Kg1,Qxc4,g3,fxg3,hxg3,Qxb4,Kg2,Qd2,Rd1,Qh6,g4,Qg6,Re1,Rxe1', 'Qa8+,Bc8,Qxc8+,Re8,Qxe8#', 'https://lichess.org/training/4zQhu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4zu0C', 'Blitz', 'StavrosTsavaris', 1611, 'David3333333', 1612, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Bc5,d4,exd4,cxd4,Bb6,Qb3,Qf6,Ne5,Bxd4,Bxf7+,Kd8,Nxc6+,bxc6,O-O,Bxa1,Bxg8,Ba6,Re1,Bd4,Be3,Bxe3,Rxe3,d6,e5,dxe5,Rd3+,Bxd3,Qxd3+,Kc8,Bc4,e4', 'Ba6+,Kb8,Qb3#', 'https://lichess.org/training/4zu0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('4Zw1G', 'Rapid', 'jmw128', 1792, 'pj34nbm09', 1916, 'e4,c6,d4,d5,exd5,cxd5,c4,Nc6,Nc3,Nf6,Bf4,a6,c5,Bg4,Be2,Bf5,Nf3,e6,O-O,Be7,Na4,Nd7,Qb3,Qc8,Nb6,Nxb6,Qxb6,O-O,Qb3,Bf6,Rfd1,Be4,Be3,Rb8,Qc3,Ne7,Rac1,Nf5,Nd2,Nxe3,fxe3,Bg6,a4,Qd7,Qa3,e5,Nf3,e4,Nd2,Bg5,Nf1,f5,b4,f4,exf4,Bxf4,Ne3,Bxe3+,Qxe3,Qxa4,Rb1,Be8,Bg4,Bb5,Be6+,Kh8,Bxd5,Bd3,Rbc1,Qxb4,Bxe4,Bxe4,Qxe4,Rbe8,Qd3,Rf4,Rb1,Qa4,d5,h5,d6,Qc6,Qd5', 'Re1+,Rxe1,Qxd5', 'https://lichess.org/training/4Zw1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('501qt', 'Blitz', 'hunteroh20', 1936, 'chessforte', 1913, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Be7,Bxc6+,Nxc6,Qxc6+,Bd7,Qf3,O-O,Nc3,h6,Nge4,Nxe4,Nxe4,Bc6,Qe3,f5,Nc3,Bg5,Qg3,f4,Qg4,Bd7,Qf3,Bf5,d3,Qa5,O-O,Rae8,Bd2,Qb4,Rab1,e4,Nxe4,Bxe4,Bxb4,Bxf3,Bxf8,Be2,Rfe1,f3,Bxg7,Kxg7,gxf3,Kf7,b4,Bd2,a4,Bxe1,Rxe1', 'Rg8+,Kh1,Bxf3#', 'https://lichess.org/training/501qt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5070f', 'Rapid', 'Maffa75', 2184, 'NightOFzero', 2367, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,a3,Be7,Nxc6,bxc6,Bd3,e5,O-O,O-O,Qf3,d5,Qg3,dxe4,Nxe4,Nxe4,Bxe4,Qd6,Qc3,Bb7,Be3,f5,Qb3+,Kh8,Qxb7,fxe4,Rad1,Qe6,Rd7,Bf6,Bxa7,h6,b4,Qc4,Bc5,Rg8,Qxc6,Bg5,Rd6,Rxa3,h4,Bf4,g3,Qe2,b5,Rc3,Qd5,Bxg3,Rd8,Rxd8,Qxd8+,Kh7,Qd7,Qf3,b6,Rxc5,b7,Qf8,fxg3,Qg8,Rf7,Rb5,Qc7,e3,Kf1,Kg6,h5+,Kh7,Ke2,Rb1,Kxe3,Re1+,Kd2,Rb1,c3,e4,Kc2,Rb5,c4,Rb4,Kc3,Rb1,Kd4,Rd1+,Kxe4,Re1+,Kf3,Rf1+,Kg2,Rxf7,Qxf7,Qxf7,b8=Q,Qxc4,Qe5,Qc2+,Kh3,Qc8+,g4,Qf8,Qf5+,Qxf5,gxf5,Kg8,Kg4,Kf7,Kf4', 'Kf6,Ke4,Kg5', 'https://lichess.org/training/5070f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('50bNK', 'Blitz', 'eugen76', 1531, 'DrOctanoganon', 1518, 'Nf3,d6,d4,Nd7,e3,Ngf6,c4,e5,d5,c6,Nc3,h6,Be2,Be7,O-O,Qc7,b4,g5,h3,Nf8,dxc6,bxc6,b5,g4,hxg4,Bxg4,Nh2,Bxe2,Qxe2,Rg8,Kh1,Ng6,e4,Nf4,Qd2,Rxg2,Rg1,Rxg1+,Kxg1,O-O-O,a4,Rg8+,Kf1,Rg2,Nf3,Ng4,Nd1,Qb6,a5,Qd4,Nxd4', 'Nh2+,Ke1,Rg1#', 'https://lichess.org/training/50bNK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('50BZx', 'Blitz', 'FM ViktorN', 2450, 'vhm', 2338, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bg5,e6,Qd2,a6,O-O-O,Bd7,f4,Be7,Kb1,Qc7,a3,b5,Bxf6,gxf6,f5,b4,axb4,Nxb4,Be2,e5,Nb3,Bc6,Bc4,a5,Nd5,Bxd5,Bxd5,Nxd5,Qxd5,O-O,Rd3,a4,Rc3,Qb6,Nd2,a3,Rb3,Qc7,Rc3,Qb6,Rb3,Qc7,Rxa3,Rxa3,bxa3,Rb8+,Nb3,Qa7,Kb2,Qf2,Rd1,Rc8,Rd2,Qg1,a4,Qxh2,a5,Qh6,a6,Qf8,Rd1,Qd8,a7,Ra8,Ra1,Qc8,Ra4,Kf8,Ra5,Ke8,Qb5+,Kd8,Qb6+,Qc7,Qa6,Kd7,Ra4,Bd8,Qa5', 'Qxa5,Rxa5,Bxa5', 'https://lichess.org/training/50BZx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('50Etg', 'Blitz', 'Rob14', 2313, 'FM Cellini', 2452, 'Nf3,Nf6,d3,d5,Nc3,b6,Bg5,Bb7,Bxf6,gxf6,e4,dxe4,Nxe4,f5,Ng3,e6,Be2,Bg7,Qd2,Bxb2,O-O,Bxa1,Rxa1,Qf6,Re1,Nd7,d4,O-O', 'Nh5,Qe7,Qh6', 'https://lichess.org/training/50Etg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('50Fhc', 'Classical', 'alfa_oyuncu', 1790, 'Efe1616', 1786, 'd4,d5,Bf4,Nf6,e3,Bf5,Nd2,Nc6,c3,e6,Ngf3,Bd6,Bg3,Qd7,Ng5,h6,Ngf3,O-O-O,Ne5,Nxe5', 'dxe5,Bxe5,Bxe5', 'https://lichess.org/training/50Fhc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('50fyR', 'Blitz', 'Huseyin_erdogan_uzun', 1658, 'Kerem216', 1522, 'b3,e5,g3,b5,Bg2,d5,Bb2,g5,Bxe5,f6,Bc3,Nh6,d3,Rg8,e4,Na6,exd5,Rb8,Qh5+,Ke7,Qe2+,Kf7,Be4,b4,Bd4,Kg7,Bxa7,Ra8,d6,Rxa7,Bc6,Qxd6,Qf3,Qe5+,Kf1,Qxa1,c3,Qxb1+,Kg2,Qxa2,Nh3,bxc3,Re1,Qxb3,Re8,Bc5,Re4,c2,Ra4,Qxa4,Bxa4,c1=Q,Qc6,Qg1+,Kxg1,Rd8,Qf3,g4,Qd1,gxh3,Kh1,Nb4,Qh5,Nf5,Be8,Bf8', 'Qf7+,Kh8,Qxf8#', 'https://lichess.org/training/50fyR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('50gUN', 'Blitz', 'robbi', 1591, 'kolaleks', 1883, 'e4,d6,d4,Nf6,Nc3,Nbd7,d5,c5,Bb5,a6,Bxd7+,Bxd7,Nf3,b5,a3,g6,Bg5,Bg7,e5,dxe5,Nxe5,Qc7,Nxd7,Qxd7,O-O,O-O,b4,cxb4,axb4,Rfc8,Qd3,Rc4,Ra3,Rxb4,Bxf6,Bxf6,Ne4,Be5,Nc5,Qd6,c3,Rc4,Ne4,Qc7,Rc1,b4,Rb3,bxc3,Nxc3,Rc8,f4,Bxc3,Rcxc3,Rxc3,Rxc3,Qxc3,Qxa6,Qc1+,Kf2,Qc5+,Kg3,Qc3+,Kg4,Rf8,d6,exd6,Qxd6,Qc8+,Kg5,Qf5+,Kh4,Qh5+,Kg3,Qe2,Qf6,Re8,Kh3,Re3+,g3,Qf1+,Kh4,Qg2,Qd8+,Kg7,Qd4+,Kh6,Qxe3', 'Qxh2+,Kg4,Qh5#', 'https://lichess.org/training/50gUN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('50kw4', 'Rapid', 'enzoisdead', 2073, 'Bobbyfishmino', 2058, 'Nf3,d5,b3,Nf6,Bb2,c5,e3,Bg4,Bb5+,Nc6,Bxc6+,bxc6,d3,e6,Nbd2,Be7,O-O,O-O,h3,Bxf3,Qxf3,Qc7,Qe2,Rfe8,f4,Nd7,f5,Bf6,fxe6,fxe6,Bxf6,Nxf6,e4,Nd7,Rf2,Qe5,Raf1,Rf8,Nf3,Qb2,exd5,Nf6,Qxe6+,Kh8,Ne5,Rae8,Nf7+,Kg8,Nh6+,Kh8,Nf7+,Kg8,Qxc6,Rxf7', 'Rxf6,gxf6,Qxe8+', 'https://lichess.org/training/50kw4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('50NPC', 'Blitz', 'riise', 1513, 'vinko2202', 1514, 'e4,e5,Bc4,Bc5,h3,Nc6,a3,f6,d3,Nge7,Nf3,f5,Nc3,fxe4,Nxe4,Bb6,Ba2,d5,Ng3,O-O,Bd2,Kh8,O-O,Nd4,Nxd4,Bxd4,c3,Bb6,Be3,d4,cxd4,exd4,Bd2,Ng6,Qb3,c5,Rfe1,Qf6,f3,Bxh3,Ne4,Qf5,Ng3,Qf6,Qd5,Bxg2,Kxg2,Nh4+,Kh3,Nxf3,Rf1', 'Qh4+,Kg2,Qh2#', 'https://lichess.org/training/50NPC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('513zn', 'Rapid', 'buhuri', 1930, 'Edwyn678dgghbchjjy', 1927, 'd4,c5,c4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nf3,g6,Nc3,Bg7,Bg5,O-O,e4,Qa5,Be2,Nxe4,Bd2,Nxc3,bxc3,Bxc3,Bxc3,Qxc3+,Nd2,Nd4,O-O,Nxe2+,Qxe2,Qg7,f4,e6,Rad1,b6,Ne4,Bb7,Rxd7,Bxe4,Qxe4,Rfd8,Rfd1,Rxd7', 'Qxa8+,Qf8,Qxf8+,Kxf8,Rxd7', 'https://lichess.org/training/513zn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5191o', 'Blitz', 'Gostos', 1736, 'Flixy', 1715, 'd4,d5,Nc3,e6,Nf3,Nf6,Bf4,Bb4,a3,Ba5,b4,Bb6,e3,Nh5,Bg3,Nxg3,fxg3,c6,Bd3,h6,O-O,O-O,Ne5,Nd7,Nxd7,Bxd7,Na4,Bc7,Nc5,Bc8,c3,a5,Qc2,b6,Nb3,axb4,axb4,Bb7,Rxa8,Bxa8,Ra1,Bb7,Ra7,Qg5,Rxb7,Qxe3+,Kf1,c5,bxc5,bxc5,Nxc5,Ra8,Rb1,Bd6,Qe2,Qg5,h4,Qxg3,Qf3,Qxh4,Qh3,Qf4+,Qf3,Qd2,Rb7,Ra1+,Bb1,Qc1+,Kf2,Rxb1', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/5191o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('51DGN', 'Rapid', 'Hamb', 1634, 'feu1986', 1685, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,Nf6,c3,Bg4,Be2,O-O-O,O-O,Ne4,Nbd2,Rd6,Nxe4,Qxe4,h3,Bh5,Re1,Rg6,g4,Bxg4,hxg4', 'Qxg4+,Kf1,Qg2#', 'https://lichess.org/training/51DGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('51f0m', 'Classical', 'Ajissssss', 1854, 'eastlynne', 1897, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,Bf5,Be2,a6,O-O,h6,Ne5,e6,Bf4,Be7,a3,O-O,Qd2,Nbd7,g4,Bh7,g5,Nxe5,dxe5,Nd7,gxh6,Rc8,hxg7,Kxg7,Kh1,Kh8,Bh6,Rg8,Rg1,Nxe5,Rxg8+,Qxg8,Rg1,Qd8', 'Bg7+,Kg8,Bxe5+', 'https://lichess.org/training/51f0m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('51JPI', 'Rapid', 'Meenx', 1719, 'Ksv2012', 1636, 'e4,e5,Qf3,Bc5,Bc4,Nf6,d3,d6,h3,Nc6,Ne2,O-O,Bg5,Nd4,Nxd4,Bxd4,Nc3,Be6,O-O,c5,a3,a6,Qg3,Bxc4,dxc4,Kh8,Nd5,h6,Be3,Bxb2,Rab1,Bxa3,Rxb7,Nxd5,cxd5,a5,Bxh6,gxh6,Qxa3,Qg5,Qf3,f5,exf5,Rxf5,Qb3,Rg8,g4,Rf4,Rb8,h5,Rxg8+,Qxg8,f3,hxg4,fxg4,Rb4,Qf3,Rf4,Qg3,Qxd5', 'Qh4+,Kg8,Qg5+,Kf8,Rxf4+', 'https://lichess.org/training/51JPI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('51JRi', 'Rapid', 'Beriq', 1845, 'LekanLatona', 1871, 'e4,e6,d4,d5,e5,c5,f4,Nh6,Nf3,Be7,Bb5+,Bd7,a4,a6,Bxd7+,Nxd7,c3,O-O,O-O,f6,h3,Nf5,Kh2,cxd4,cxd4,fxe5,dxe5,Rc8,Nc3,Nc5,Nd4', 'Nxd4,Qxd4,Nb3', 'https://lichess.org/training/51JRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('51Odl', 'Rapid', 'jakmin', 1655, 'rycerz424', 1743, 'e4,c6,d4,d5,e5,Bf5,f4,e6,Nf3,Nd7,Bd3,Bxd3,Qxd3,f6,O-O,c5,c3,c4,Qc2,Be7,Be3,Nh6,h3,O-O,Nbd2,Nf5,Rae1,fxe5,fxe5,Ng3,Rf2,Bh4,Nxh4,Qxh4,Nf3,Qh5,Kh2,Ne4,Rff1,Rf5', 'g4,Qg6,gxf5', 'https://lichess.org/training/51Odl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('51rWV', 'Classical', 'azino888', 1688, 'Florian_Hamet', 1628, 'e4,c5,Nf3,d6,d4,cxd4,Bc4,Nf6,c3,dxc3,Ne5,dxe5', 'Bxf7+,Kxf7,Qxd8', 'https://lichess.org/training/51rWV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('51vc8', 'Blitz', 'pescadoranton', 1917, 'sirsala', 1848, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,c6,g3,d5,Bg2,Bd6,cxd5,cxd5,Nb5,O-O,Nxd6,Qxd6,O-O,Bd7,Bf4,Qb4,a3,Qa5,b4,Qb6,Ne5,Ne4,Qb3,g5,Be3,Bb5,a4,Be8,Rfc1,Nd7,Nxd7,Bxd7,Bxe4,fxe4,Bxg5,Qxd4,Qc3,Qxf2+,Kh1,Rac8,Qe5,Qxe2,Bh6,Rf7,Rxc8+,Bxc8,Qg5+,Kh8,Qe5+,Kg8', 'Qg5+,Kh8,Qd8+,Rf8,Qxf8#', 'https://lichess.org/training/51vc8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('51WIF', 'Classical', 'DHEVYD', 1706, 'Tomekemot', 1669, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,c4,Nf6,Nc3,Bb4,Bd2,d5,exd5,cxd5', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/51WIF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('529nc', 'Rapid', 'feuhausus', 1837, 'hmdakbari', 1772, 'e4,e6,d4,d5,Nd2,c5,Ngf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,exd5,cxd5,Nf3,Nf6,Bb5+,Bd7,Qe2', 'Qa5+,Bd2,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/529nc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('52Ao7', 'Bullet', 'ailoveyu', 1808, 'cromsky', 2220, 'Nf3,g6,e4,Bg7,d4,c5,Be3,Qa5+,c3,cxd4,Bxd4,f6,Be2,Nc6,O-O,Nxd4,cxd4,Nh6,Nc3,O-O,Rc1,a6,e5,f5,d5,Nf7,e6,dxe6,Bc4,e5', 'd6,e6,d7,Bxd7,Qxd7', 'https://lichess.org/training/52Ao7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('52j5Q', 'Classical', 'martvyto', 2176, 'savvyd', 2131, 'Nf3,Nf6,g3,d6,d4,g6,Bg2,Bg7,O-O,O-O,c4,Ne4,Nbd2,Nxd2,Bxd2,Nd7,Bc3,a6,e4,b5,Qd3,Rb8,cxb5,axb5,a3,c5,dxc5,Nxc5,Qc2,Be6,Nd2,Bc4,Rfd1,Bd3,Qc1,Be2,Bxg7,Kxg7,Qc3+,Kg8,Re1,Bc4,b4,Na4,Qc2,Rc8,Rac1,Qb6,Nxc4,Rxc4,Qd2,Rfc8,Bf1,Rc3,Rxc3,Rxc3,Qd5,Rc2,Re2,Rc1,Re3,Nb2,Kg2,Nc4,Rf3,e6,Qa8+,Kg7,Bxc4,bxc4,e5,d5,Qa4,Qb7,b5,Rb1,Qa5,d4,Qd8,Rg1+,Kxg1,Qxf3,Qxd4', 'c3,Qc4,Qd1+,Kg2,c2', 'https://lichess.org/training/52j5Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('52LnM', 'Blitz', 'Mostafaouardi', 1678, 'Alessnava4', 1658, 'e4,c5,Nf3,d6,Bc4,Nc6,c3,Bg4,O-O,h6,h3,Bxf3,Qxf3,Nf6,d3,e5,Be3,a6,Nd2,b5,Bb3,Be7,c4,b4,a3,a5,axb4,axb4,Rxa8,Qxa8,Qg3,g5,Nf3,Nd7,h4,f6,hxg5,hxg5,Qg4,Nd4,Nxd4,cxd4,Bd2,Qb7,Qe6', 'Nc5,Qd5,Qxd5,cxd5,Nxb3', 'https://lichess.org/training/52LnM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('52MLw', 'Classical', 'VladislavRUS62', 1611, 'HyperMurderToo', 1621, 'e4,e5,d3,Bc5,Nc3,Nc6,f4,Nf6,f5,O-O,Bg5,h6,Bxh6,gxh6,Qd2,Kh7,Be2,Rh8,O-O-O,Rg8,Bf3,Ng4,Bxg4,Rxg4,Qe2,Rg8,Nf3,Kg7,g4,Kf8,h4,Rxg4,Nxe5,Nxe5,Rdg1,Rxg1+,Rxg1,Bxg1,Qh5,Bd4,Qxh6+,Ke7', 'Nd5+,Ke8,Qh8#', 'https://lichess.org/training/52MLw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('52Phz', 'Rapid', 'Vitalik90', 1646, 'john1659', 1660, 'e4,d6,Bc4,Nf6,Nc3,e5,d3,Be7,Nf3,Bg4,h3,Bh5,g4,Bg6,Be3,Nbd7,a3,c6,Ba2,Qc7,Nd2,d5,exd5,cxd5,Nxd5,Nxd5,Bxd5,O-O,h4,h6,h5,Bh7,Ne4,Nf6,Nxf6+,Bxf6,Rg1', 'Qa5+,Qd2,Qxd5', 'https://lichess.org/training/52Phz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('52pKe', 'Rapid', 'Pugwash100', 1815, 'xjepoks', 1865, 'd4,Nf6,Nf3,g6,c4,Bg7,g3,O-O,Bg2,d6,O-O,Bg4,Nbd2,Qd7,Qc2,Bh3,e4,Bxg2,Kxg2,Nc6,b3,e5,d5,Nb4,Qc3,Na6,Bb2,Nc5,Rae1,a5,Nh4,b5,f4,b4,Qc2,exf4,e5,dxe5,Bxe5,fxg3,Bxf6,Bxf6,Rxf6,gxh2,Kxh2,Qg4,Ndf3,Rae8,Rxe8,Rxe8,Qd2', 'Ne4,Qf4,Nxf6,Qxg4,Nxg4+', 'https://lichess.org/training/52pKe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('52VFJ', 'Classical', 'im4y', 1678, 'IyaelPsalm', 1898, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,Nb6,b3,Nxc4,bxc4,e5,Nf3,Bd6,Qe2,Nc6,Bb2,Bg4,Nd5,O-O,h3,Bxf3,gxf3,Nd4,Qd3,c6,Ne3,Nxf3+,Kd1,Re8,Nf5,e4,Qxd6,Qxd6,Nxd6,Red8,Nxe4,f5,Nc5,Rxd2+,Kc1,Re8,Rd1', 'Rxd1+,Kxd1,Re1#', 'https://lichess.org/training/52VFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('52xsG', 'Rapid', 'foucheta', 2081, 'SergeyGylyaev', 2036, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Qd5,Rb8,Bc4,Qf6,Bg5,Qg6,f4,f6,Bh4,Bb7,Qd2,Qxe4+,Be2,Qxg2,Rf1,Qxh2,Bf2,Bg2,Rg1,Bc5,Bxc5,bxc5,Qe3+,Ne7,b3,Qh4+,Kd2,Bc6,Rxg7,f5,Nc3,Qf6,Bh5+,Kd8,Rag1,Be4,Nxe4,fxe4,Qxe4,c6,Rf7,Qd6+,Kc1,Nd5,Rgg7,Nb6,Bg4,Re8,Qh1,Rb7,Rxh7,a5,Bf3,Kc8,Bxc6,Qxc6', 'Qxc6+,dxc6,Rxb7', 'https://lichess.org/training/52xsG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('52yb3', 'Rapid', 'WarAsset', 1867, 'ChessAbhinav31', 1907, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Nc6,Nxc6,bxc6,Qg4,Nf6,Qg5,Be7,e5,Nd5,Qxg7,Rf8,Nxd5,cxd5,Bd3,Qa5+,c3,Bb7,b4,Qc7,O-O', 'Qxc3,Bh6,Qxd3', 'https://lichess.org/training/52yb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('538Mf', 'Rapid', 'dkhrisanov', 1900, 'BerryFanta', 1991, 'e4,c5,Nf3,g6,Bc4,Nc6,c3,Nf6,e5,d5,Bb5,Nd7,d4,cxd4,cxd4,Bg7,O-O,O-O,Nc3,f6,Nxd5,fxe5,dxe5,Ncxe5,Re1,Nxf3+,gxf3,e6,Ne3', 'Qg5+,Ng4,Qxb5', 'https://lichess.org/training/538Mf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('53Iyf', 'Rapid', 'Batmanli', 1801, 'MohammedMahmoud2880', 1890, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Qd3,Bd7,Nc3,Nb4,Qd2,e6,a3,Nc6,Bb5,Nf6,O-O,Be7,Bxc6,Bxc6,e5,Nd5,Nxd5,Bxd5,exd6,Bxd6,b4,O-O,Bb2,Bxf3,gxf3', 'Bxh2+,Kxh2,Qxd2', 'https://lichess.org/training/53Iyf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('53j6N', 'Rapid', 'Dreamer_0x01', 1749, 'Kekkers', 1895, 'e4,c5,e5,Nc6,f4,d6,Nf3,Bg4,Be2,Bxf3,Bxf3,Nd4,c3,Nxf3+,Qxf3,dxe5,Qxb7,exf4', 'Qc6+,Qd7,Qxa8+', 'https://lichess.org/training/53j6N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('53kds', 'Blitz', 'Mr-Zupri', 1717, 'jagmohan_86', 1673, 'e4,e5,f4,Nc6,Nf3,d5,exd5,Nd4,fxe5,Qxd5,Nc3,Bg4,Nxd5,O-O-O,Ne3,Bxf3,gxf3,Be7,h4,Nh6,f4,f6,exf6,Bxf6,c3,Ndf5,Nxf5,Nxf5,Qa4,Rhe8+,Kf2,Nxh4,Qxa7,Nf5,Bh3,Bh4+,Kf3,Rd3+,Kg4', 'Rg3+,Kh5,g6#', 'https://lichess.org/training/53kds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('53PY5', 'Blitz', 'miki1980', 2321, 'Raspoetin', 2180, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd3,d6,c4,g6,Nc3,Bg7,f4,Nf6,h3,a6,Nf3,Bd7,Be2,Qb6,Be3,Qxb2,Rb1,Qa3,Rb3,Qa5,Bb6,Qh5,O-O,O-O,Nd5,Qh6,Be3,Nxd5,cxd5,Na5,f5,Qh5,Ne5,Qh4,Nxd7,Nxb3,axb3,Rfd8,fxg6,hxg6,Bf2,Qg5,Nb6,Rab8,Bd4,Bxd4+,Qxd4,Rf8,Nd7,b5,Nxb8,Rxb8,Bg4,a5,Rxf7,Kxf7', 'Be6+,Kf8,Qh8#', 'https://lichess.org/training/53PY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('53t2N', 'Blitz', 'bientot', 1937, 'Gopalrowacha', 1901, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Bb4,Rc1,Nbd7,e3,O-O,Nf3,c5,a3,Bxc3+,Rxc3,cxd4,Nxd4,e5,Nf5,Nb6,Ng3,e4,c5,Nbd7,Bb5,Ne5,O-O,Bg4,Qc2,h6,Bxf6,Qxf6,c6,bxc6,Bxc6,Rac8,Bxd5,Rxc3,Qxc3,h5,Bxe4,h4,f3,hxg3,fxg4,gxh2+,Kxh2,Qh4+,Kg1,Nxg4,Rf4,Rd8,Bf3,Qh2+,Kf1', 'Qh1+,Ke2,Qd1#', 'https://lichess.org/training/53t2N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('53U5M', 'Blitz', 'Hohem', 1532, 'aavar', 1559, 'e4,c5,Bc4,g6,d3,Bg7,Bf4,Nc6,Nc3,a6,Nf3,e6,a3,Nge7,O-O,O-O,e5,Qc7,Re1,b5,Ba2,Nd4,Ne4,Nec6,Nf6+,Kh8,Nxd4,cxd4,Qg4,h5,Qg3,Bb7,Ne4,Nxe5,Ng5,d6,h4,Rad8,f3,Nc6,Qh2,Ne7,g4,Bh6,Nxf7+,Rxf7,Bxh6,Bxf3,Rxe6,Bxg4,Rxg6,Nxg6,Bg5,Re8,Bxf7,Qxf7,Qxd6,Re6,Qd8+,Kh7,Qxd4,Bf5,Rf1,Re8,Qf2,Rf8,Qc5,Qe6,Qc7+,Kh8,d4,Bxc2,d5,Qxd5', 'Rxf8+,Nxf8,Bf6+,Kg8,Qg7#', 'https://lichess.org/training/53U5M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('53xMq', 'Classical', 'Khelmahakunbh', 1920, 'vanek09', 1872, 'd4,d5,g3,Nf6,Bg2,Bf5,Nf3,e6,Nc3,c5,Bg5,h6,Bxf6,Qxf6,O-O,Bd6,Nb5,Qe7,Nxd6+,Qxd6,dxc5,Qxc5,Nd4,Bg6,c3,Nc6,e3,O-O,Qg4,Ne5,Nxe6,fxe6', 'Qxe6+,Kh8,Qxe5', 'https://lichess.org/training/53xMq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('541Ti', 'Rapid', 'gelou49', 1755, 'michalch00', 1709, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Bd3,Be7,a3,O-O,O-O,d6,h3,a6,c4,b6,Nc3,Bb7,Be3,Rc8,Qb3,Nd7,Nd5,Na5,Qc3,Bxd5,exd5,b5,b3,bxc4,bxc4,Nxc4,Bxc4,Nb6,Bxb6,Qxb6,Qd3,f5,Rfb1,Qc7,Nd2,e4,Qe2,Bf6,Ra2,e3,fxe3,f4,Rc1,fxe3,Qxe3,Rce8,Qd3,Qc5+,Kh1,Re3,Qf1,Bb2,Nf3,Bxc1,Qxc1,Rexf3,gxf3,Rxf3,Rg2,Qd4,Bf1,Rxh3+,Rh2,Qe4+,Bg2,Rxh2+,Kxh2,Qh4+,Kg1,Qd4+,Kf1,Qd3+,Kf2,Qf5+,Bf3,g5,Qe3,g4,Qe6+', 'Qxe6,dxe6,gxf3', 'https://lichess.org/training/541Ti');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('542Lb', 'Classical', 'Iwaszkiw', 1765, 'skeyur85', 1793, 'b3,e5,Bb2,Nc6,e3,a6,Nf3,Bd6,d4,Qf6,dxe5,Nxe5,Be2', 'Nxf3+,Bxf3,Qxb2', 'https://lichess.org/training/542Lb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('549V1', 'Rapid', 'BlackEagle47', 1800, 'slickmate', 1803, 'd4,Nf6,c4,c5,Nf3,g6,Nc3,cxd4,Nxd4,Bg7,g3,a6,Bg2,O-O,O-O,Nc6,e4,Nxd4,Qxd4,Ng4,Qd2,Ne5,Qe2,Nc6,Be3,d6,Rac1,Be6,b3,Rc8,Nd5,Nd4,Qd2,Bxd5,cxd5,Nb5,a4,Nc7,Bb6,Qd7,Qa5,Na8,Be3,Bb2,Rxc8,Rxc8,Rb1,Bc3,b4,Nc7,Rc1,Ne8,Bf1,Bb2,Rxc8,Qxc8,Qb6,Nf6,f3,Nd7,Qa7,Ne5,Kg2,Nc4,Bxc4,Qxc4,Qxb7', 'Qe2+,Bf2,Bd4', 'https://lichess.org/training/549V1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('54aJ5', 'Rapid', 'Amirsadra_M1386', 1573, 'Chukii88', 1595, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,Bc5,e5,Ng8,Ng5,d5,Qf3,Nxe5,Qxd5,Qxd5,Bxd5,Nf6,Re1,Bd6,f4,c6,fxe5,cxd5,exf6+,Kf8,fxg7+,Kxg7,Nf3,Bf5,Nxd4,Bc5,c3,Rhe8,Rxe8,Rxe8,Na3,Re1+,Kf2,Rd1,Be3,Rxa1,Nxf5+,Kf6,Bxc5,Kxf5,Bxa7,Rxa2,Kf3,Rxb2,Bd4,h5,h3,f6,g4+,hxg4+,hxg4+,Kg5,Be3+,Kg6,Kf4,b5,Bd4,b4,cxb4', 'Rxb4,Nc2,Rc4,Ke3,Rxc2', 'https://lichess.org/training/54aJ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('54dlK', 'Blitz', 'FM Morphy84', 2381, 'Cesar_nino_CAQUETA', 2240, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,e3,Ne4,Qc2,f5,Bd3,Bd6,O-O,O-O,Ne5,Bxe5,dxe5,Nd7,f4,g5,Bxe4,dxe4,b3,Rf7,Ba3,Rg7,Bd6,Qb6,Qe2,Nc5,Bxc5,Qxc5,Na4,Qa5,Rad1,Bd7,Rd6,Re8,Rfd1,Bc8,Qd2,Qxd2,R1xd2,gxf4,exf4,Kf8,Nc5,h5,Kf2,h4,Ke3,b6,Nd7+,Bxd7,Rxd7,Rxd7,Rxd7,Re7,Rd6,c5,g3,hxg3,hxg3,Kf7,g4,Rc7', 'gxf5,exf5,Rf6+,Ke8,Rxf5', 'https://lichess.org/training/54dlK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('54Hh4', 'Classical', 'pranavdivakar', 1715, 'punchmagician', 1619, 'e4,c5,Nf3,d5,exd5,Qxd5,Nc3,Qh5,Bb5+,Nc6,d3,Bg4,O-O,Qg6,Nd5,O-O-O,Nf4,Qd6,Bxc6,Qxc6,h3,Bxf3,Qxf3,Qxf3,gxf3,e5,Nh5,Be7,Nxg7,Nf6,Nf5,Bf8,Bg5', 'Rg8,h4,h6', 'https://lichess.org/training/54Hh4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('54HMB', 'Classical', 'Possador', 1907, 'kiery', 1813, 'd4,e6,Bf4,d6,e3,Nc6,Nf3,Nf6,c3,h6,h4,Be7,Bd3,b6,Nbd2,Bb7,Qb3,Na5,Qa4+,c6,b4,Nd5,bxa5,Nxc3,Qb3,Nd5,Bh2,b5,e4,Nf6,O-O,Ng4,Rac1,Nxh2,Kxh2,a6,e5,d5,a4,Qxa5,axb5,axb5,Qb2,Ba3,Qa2,Bxc1,Qxa5,Rxa5,Rxc1,O-O,Nb3,Ra3,Nc5,Ba8,Kg1,b4,Rb1,Rb8,Na6,Rb6,Nxb4', 'Rxd3,Nxd3,Rxb1+', 'https://lichess.org/training/54HMB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('54JI0', 'Rapid', 'yousukenaka', 1720, 'sam-d', 1707, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Nc3,Bb4,Bg5,O-O,Be2,h6,Bh4,Bg4,O-O,Re8,Re1,Nc6,Qd3,Qd6,Bxf6,Qxf6,Ne5,Bf5,Qb5,Bxc3,bxc3,Nxe5,dxe5,Qb6,Qxd5,Rad8,Qf3,Bxc2,Bc4,Bg6,Bb3,Rf8,h3,Rd2,Rab1,Bh5,Qg3,Qg6,Qe3,Rd3,Qxa7,Rxh3,Qxb7', 'Bf3,Qxf3,Rxf3', 'https://lichess.org/training/54JI0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('54JQj', 'Rapid', 'caddy', 2051, 'IsolatedPun-YouTube', 2111, 'e4,c5,b3,d6,Bb2,Nc6,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,e5,O-O,Be7,Nd2,O-O,f4,Qc7,fxe5,dxe5,Nf3,Bd6,Qe1,Bg4,Qg3,Bxf3,Rxf3,Kh8,Raf1,Ne8,Rf5,f6,Bxe5,Bxe5,Qxe5,Nd6,Rxf6,gxf6,Rxf6,Qg7,Rxf8+,Rxf8,Qxd6', 'Qa1+,Bf1,Qxf1#', 'https://lichess.org/training/54JQj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('54laq', 'Rapid', 'radicalnonsense', 1691, 'vikrant33', 1638, 'd4,a6,c4,c5,d5,g6,Nc3,Bg7,Ne4,h5,e3,f5,Nxc5,Qa5+,Bd2,Qxc5,Nf3,Bxb2,Rb1,Bf6,Bb4,Qc7,d6,exd6,Bxd6,Qa5+,Bb4,Bc3+,Bxc3,Qxc3+,Nd2,Nc6,Be2,g5,O-O,g4,f3,d6,fxg4,Qxe3+,Kh1,hxg4,Bxg4,fxg4,Re1,Qxe1+,Qxe1+,Nge7,Ne4,Bf5,Nxd6+,Kd7,Nxf5,Nxf5,Rxb7+,Kc8,Rb6,Kc7,c5,Rae8,Qf2,g3,Qf4+,Re5', 'Rxc6+,Kxc6,Qxe5', 'https://lichess.org/training/54laq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('54ONP', 'Blitz', 'Roadues', 1547, 'vgsready', 1505, 'd4,d5,Nf3,Nc6,Bf4,Bg4,a3,e6,e3,Bd6,h3,Bxf4,hxg4,Bh6,g5,Bxg5,Nxg5,Qxg5,g3,O-O-O,c4,Qf5,Nd2,Nf6,b4,Ng4,Qe2,Nxf2,Qxf2,Qxf2+,Kxf2,e5,c5,exd4,exd4,Nxd4,Nf3,Nf5,Bh3,g6,g4,Ne7,Rhe1,Nc6,b5,Na5,b6,cxb6,cxb6,axb6,Rab1,Nc4,Rb4,Nxa3,Ne5,Nc2,Rc1,Rhe8,Nd3,Kb8,Rxc2,Re7,Ra4,Rde8,Nf4,Re4,Nxd5,Rxa4,Nxb6,Rb4', 'Nd7+,Ka7,Ra2+,Ra4,Rxa4#', 'https://lichess.org/training/54ONP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('54UpY', 'Rapid', 'Pavel23', 2146, 'ChessClashRoyale', 2058, 'c4,e5,g3,Nf6,Bg2,d5,cxd5,Nxd5,Nf3,Nc6,O-O,Be7,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Qxd8+,Bxd8,Nc3,c6,Bf4,Be6,Rfd1,Be7,e4,O-O,Bd6,Bxd6,Rxd6,Rad8,Rad1,Rxd6,Rxd6,Re8,f4,Kf8,e5,Nd7,Ne4,h6,Kf2,Ke7,a3,Rc8,b4,a5,Ke3,axb4,axb4,Ra8,Rd2,Nb6,Bf1,Nd5+,Kd4,Nxb4,Rb2,Ra4,Nc3,Nc2+,Kc5,Ra1,Bd3,Ne3,Rxb7+,Bd7,Kd4,Ra3,Kxe3,Rxc3,Kd4,Rc1,Bf5,Rd1+,Kc5,Rd5+,Kb6', 'Rb5+,Ka7,Rxb7+,Kxb7,Bxf5', 'https://lichess.org/training/54UpY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('54wHl', 'Bullet', 'Andrius7', 1755, 'bob1975', 1705, 'Nf3,d5,g3,c6,Bg2,e6,O-O,Bd6,d3,Nd7,e4,dxe4,dxe4,Nb6,e5,Bc7,Qe2,Ne7,Rd1,Bd7,Bg5,h6,Bf4,O-O,Qd2,Ng6,Bxh6,gxh6,Qxh6,Re8,Ng5,Nf8,Be4,Bxe5', 'Bh7+,Nxh7,Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/54wHl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('54xaT', 'Rapid', 'Zitti', 1693, 'Movz', 1703, 'e4,c5,f4,e6,Nf3,Nc6,Be2,Nf6,Nc3,d5,e5,Nd7,O-O,Be7,d4,cxd4,Nxd4,Bc5,Be3,Qb6,Bb5,Bxd4,Bxd4,Nxd4,Bxd7+,Bxd7,Kh1,Nf5,b3,Ne3,Qf3,Nxf1,Rxf1,O-O,h3,Qb4,a4,Rac8,Ne2,Rxc2,Ng3,Rfc8,Qg4,d4,Nh5,g6,Nf6+,Kf8,Nxd7+,Ke8,Nf6+,Kd8,Qf3,R2c3,Qe4,Qxb3', 'Qxd4+,Qd5,Nxd5', 'https://lichess.org/training/54xaT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('551hv', 'Rapid', 'MessyChessie', 2022, 'TateKCL', 2027, 'd4,Nf6,g3,d5,Bg2,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Bg5,b6,e4,dxe4,Bxe4,c6,Qd3,h6,h4,Ba6,c4,hxg5,hxg5,Nxe4,Qxe4,f5', 'Qxe6+,Rf7,g6', 'https://lichess.org/training/551hv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('55GK7', 'Rapid', 'millencolin', 1707, 'OSSSH', 1636, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d4,Bd6,a3,O-O,O-O,Re8,b4,Nxd4,Nxd4,exd4,Qxd4,Be5,Qd3,Nxe4,Qd5,Bxc3,Qxf7+,Kh8,Rb1,Bd2,Bb2,Bc3,Bc1,Rf8,Qg6,d5,Bxh6,gxh6,Qxh6+,Kg8,Qg6+,Bg7,Bd3,Bf5,Qh5,Nd2,Bxf5,Nxb1,Qh7+,Kf7,Qg6+,Kg8,Be6+,Kh8', 'Qh5+,Bh6,Qxh6#', 'https://lichess.org/training/55GK7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('55L1d', 'Rapid', 'Crawford', 1852, 'NUMI7', 1854, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nf6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qd8,c3,O-O,d4,Be7,Bg5,Nxe4,Bxe7,Qxe7,Re1,f5,Nbd2,Re8,Ne5,Nxd2,Qxd2,Qf6,Qf4,g5,Qg3,h5,Qf3,g4,Qf4,Be6,h3,Kg7,hxg4,hxg4,Re3,Rh8,Kf1', 'Rh1+,Ke2,Rxa1', 'https://lichess.org/training/55L1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('55Mt0', 'Rapid', 'Hazdiuk', 1920, 'VeNstillTeR', 1928, 'd4,Nf6,c4,e6,g3,g6,Bg2,Bg7,Nc3,d5,cxd5,Nxd5,e3,Nc6,Nge2,Nce7,e4,Nb6,Bg5,h6,Bf4,a6,h4,Bd7,Rc1,Bc6,f3,f5,Qb3,Qd7,Rd1,O-O-O,Be3,Kb8,O-O,Bf6,e5,Bg7,Rd2,Ned5,Bf2,g5,hxg5,hxg5,Rfd1,Rh7,Kf1,Rdh8,Nxd5,Nxd5,f4,Nb6,d5,Bxd5,Bxd5,Nxd5,Nc3,Rh1+,Bg1,Qc6,Nxd5,exd5,Qxd5,Qb6,Qd8+', 'Rxd8,Rxd8+,Ka7,Kg2,Rxg1+', 'https://lichess.org/training/55Mt0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('55o3U', 'Rapid', 'KurobaneYuusei', 1794, 'debussy93', 1826, 'e4,c6,d4,d5,exd5,cxd5,c4,dxc4,Bxc4,a6,a4,Nf6,Nf3,Bf5,Ne5,e6,O-O,h6,Nc3,Be7,d5,O-O,d6,Bxd6,Nf3,Nc6,Be3,Qc7,Bd3,Bxd3,Qxd3,Nb4,Qd1,a5,Rc1,Qb8,Nb5,Be5,Qe2,Bf4,Rc4,Bxe3,Qxe3,Nfd5,Qd4,Rd8,Qh4,Nb6,Rg4,Kh8,Rg3,N6d5,Qh5,Rf8,Ne5,Nf6', 'Nxf7+,Rxf7,Qxf7', 'https://lichess.org/training/55o3U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('55oOV', 'Rapid', 'ElvinN_0192', 1686, 'fabrizio62', 1711, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,cxd6,Nf3,Bg4,Be3,Bxf3,gxf3,Qc7,Qc2,d5,c5,N6d7,Bb5,Nc6,Rg1,a6,Bxc6,bxc6,Rg3,g6,Nd2,Bg7,b4,O-O,Nb3,e5,Rd1,exd4,Bxd4,Bxd4,Nxd4,Ne5,Rc1,Nc4,Qb3,Rfe8+,Kd1,Qf4,Rxc4,dxc4,Qxc4,Rad8,Rg4,Qxh2,Kc2,Qxf2+,Kb3,Re3+,Ka4,Rxd4,Rxd4,Qxf3,Rd8+,Kg7,Qd4+,Qf6', 'Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/55oOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('55pc1', 'Rapid', 'burj', 2034, 'deatno123', 2023, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,h3,h6,c3,Bb6,Re1,O-O,Nbd2,Be6,Bxe6,fxe6,Nf1,Qe8,Ng3,Qg6,Nh4', 'Qxg3', 'https://lichess.org/training/55pc1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('55qhl', 'Classical', 'kaleidoscopic', 1684, 'marcosdelbosque', 1668, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,Nxe4,Nxe5,Qe7,Qf3,d5,Nd2,Nxe5,dxe5,Nxd2,Bxd2,Qxe5+,Be2,Be6,O-O,Bd6,g3,c6', 'Bf4,Qf5,Bxd6,Qxf3,Bxf3', 'https://lichess.org/training/55qhl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('55qXj', 'Blitz', 'jastogre', 1585, 'EnSu25', 1577, 'e4,d5,e5,Nc6,d4,e6,f4,Bd7,c3,Qe7,Nf3,O-O-O,Be3,g6,b4,Nxb4,cxb4,Qxb4+,Bd2,Qe7,Be2,f6,O-O,fxe5,fxe5,Nh6,a4,Nf5,a5,Nh4,a6,b6,Qc2,Nxf3+,Rxf3,Qg7,Rc3,c6,Bb5,Bb4,Bxc6,Bxc3,Bxd7+,Rxd7,Qxc3+,Rc7,Qh3,Qf7,Nc3,Rf8,Nb5', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/55qXj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('55Y47', 'Rapid', 'Preparethebeast', 2294, 'kkumar11', 2107, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bg5,f6,Bf4,e6,Bd3,Ne7,Bxf5,Nxf5,g4,Ne7,exf6,gxf6,g5,Ng6,Bg3,Nd7,Qd3,f5,Nh3,Qb6,Nd2,O-O-O,O-O-O,Bg7,Nb3,c5,dxc5,Nxc5,Nxc5,Qxc5,Kb1,Ne5,Qe2,d4,f4,Nc6,Qxe6+,Kb8,Rd3,Nb4,Rc1,Nxd3,cxd3,Qd6', 'Rc8+,Rxc8,Qxd6+', 'https://lichess.org/training/55Y47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('565q8', 'Rapid', 'Derfelgreen', 1742, 'Rost18', 1755, 'Nf3,d5,d4,c5,c4,dxc4,Qa4+,Nc6,Qxc4,cxd4,g3,e5,Bg2,Bb4+,Nbd2,Bxd2+,Bxd2,Nge7,O-O,O-O,Rac1,Rb8,a3,Be6,Qc2,h6,b4,a6,Rfd1,Qc8,Qb2,Bh3,Nxe5,Bxg2,Kxg2,Qe6,Bf4,g5,Nxc6,Nxc6,Bxb8,Rxb8,Rd2,Qd5+,Kg1,Re8,Rc5,Qd6,e3,Qf6,Rc1,Qf3,exd4,Re4,Qc3', 'Re1+,Rxe1,Qxc3', 'https://lichess.org/training/565q8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('56aMm', 'Rapid', 'e4ok', 1735, 'Kasparovich07', 1743, 'e4,c5,d4,Nc6,d5,Nd4,Nf3,Nxf3+,Qxf3,d6,Nc3,Nf6,Bd3,a6,O-O,b5,Ne2,g6,c3,c4,Bc2,Bg7,Nd4,O-O,Qf4,Qd7,Nc6,Bb7,Nd4,Qg4,Qe3,e5,Ne2,Rae8,f4,Nxd5,exd5,Bxd5,Qg3,Qxe2,Rf2,Qh5,Be3,e4,Raf1,Qf5,Bd1,Bc6,Bg4,Qf6,f5,Qe5,Bf4,Qe7,Rd2,d5,Bd6,Be5', 'Bxe7,Bxg3,Bxf8', 'https://lichess.org/training/56aMm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('56bPL', 'Classical', 'mikey9599', 1632, 'gullyboy', 1622, 'd4,e5,Nf3,e4,Nfd2,d5,e3,Nf6,c4,c6,b4,Bxb4,cxd5,cxd5,Qa4+,Nc6,Bb5,O-O,Bxc6,Bxd2+,Bxd2,bxc6,Bb4,Re8,O-O,Bd7,Qc2,Qc7,Nd2,Ng4,g3,Rab8,Bc5,f5,Rab1,Rbc8,Qa4,Ra8,Qb4,a5,Qb6,Qc8,Nb3,a4,Nd2,Rf8,Bxf8,Qxf8,Qc5,Qd8,h3,Nf6,Rb7,Be6,Rfb1,f4,Qxc6,Bxh3,exf4,Rc8,Qxc8,Bxc8,Rb8,h6,Rc1,Kh7,Rbxc8,Qa5,Nf1,Qb4,Ne3,Qxd4,Nf5,Qd2,R8c7,Ng4', 'Rxg7+,Kh8,Rc8#', 'https://lichess.org/training/56bPL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('56gHC', 'Rapid', 'MusliandiHasan', 1788, 'Shark50005', 1758, 'e4,e5,f4,Bc5,fxe5,Qh4+,g3,Qxe4+,Ne2,Qxh1,d4,Bb4+,c3,Ba5,Na3,Ne7,b4,Bb6,c4,a5,c5,Ba7,Nb5,Na6,bxa5,b6,axb6,cxb6,Be3,bxc5,dxc5,Nd5,Bf2,Qe4', 'Nd6+,Kf8,Nxe4', 'https://lichess.org/training/56gHC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('56HG0', 'Rapid', 'iamyoga', 1947, 'andreysv', 1811, 'e4,c5,Nc3,Nc6,Bc4,e6,Nf3,d6,d3,Nf6,Bg5,Be7,a3,a6,Qd2,b5,Ba2,Rb8,Ne2,b4,axb4,Nxb4,Bc4,Qb6,c3,Nc6,Ra2,Na5,O-O,Nxc4,dxc4,Nxe4,Qe3,Nxg5,Nxg5,Qb3,Rfa1,Qxc4,Ra4,Qb3,Qf4,Bxg5,Qxg5,Qxb2,Qxg7,Qb1+', 'Nc1,Qg6,Qxh8+', 'https://lichess.org/training/56HG0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('56Jne', 'Rapid', 'sergetsa', 1804, 'UncleGrut', 1757, 'e4,c5,Nf3,e6,Nc3,a6,d4,cxd4,Nxd4,Qc7,Bf4,d6,Bg3,e5,Nf3,Nf6,Bd3,Be6,O-O,Be7,h3,Nbd7,a3,Rc8,Ng5,O-O,Nxe6,fxe6,Qd2,d5,exd5,exd5,Rae1,Bd6,f3,Rce8,Bf5,Qc6,Bxd7,Qxd7,Nxd5,Nh5,Bf2,e4,Rxe4,Bf4,Be3,Bxe3+,Rxe3', 'Rxe3,Qxe3,Qxd5', 'https://lichess.org/training/56Jne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('56VEe', 'Rapid', 'Goheenorgohome', 1842, 'GreenApple3', 1900, 'Nf3,f5,c4,Nf6,d4,b6,Nc3,Bb7,Bg5,h6,Bd2,Ne4,e3,Nxd2,Nxd2,g6,Nf3,Bg7,Bd3,e6,O-O,d6,e4,O-O,Qc2,Nd7,Ne2,Kh7,Nf4,Qe7,exf5,exf5,Rfe1,Qf6,Re6,Qf7,Rae1,Bxf3,gxf3,Rae8,Kf1,Rxe6,Rxe6,g5,Nd5,Qxe6,Nxc7,Qf7,Nb5,Qg6,d5,Nc5,Be2,f4,Qc1,Nd3,Bxd3,Qxd3+,Kg2,Qg6,Nxa7,Ra8,Nc6,Rxa2,Ne7,Bxb2,Qe1,Ra1,Qe2,Qg7,Qe4+,Kh8,Ng6+,Kg8,Ne7+,Kf8,Ng6+,Kg8,Ne7+,Kf7', 'Qe6+,Kf8,Ng6+,Qxg6,Qxg6', 'https://lichess.org/training/56VEe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('56wJt', 'Rapid', 'Harcos', 1886, 'adis1990', 1893, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Nxc3,bxc3,Bc5,d3,e4,Bxe4,Qf6,d4,Bb6,Be3,Nc6,Qa4,Bd7,Qc2,O-O-O,Nf3,Bg4,Bg5,Qe6,Bxd8,Rxd8,O-O,f5,d5', 'Qxe4,Qxe4,fxe4', 'https://lichess.org/training/56wJt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('57aZe', 'Rapid', 'arqi', 1881, 'AlvaroChess99', 1821, 'e4,e5,Bc4,Nc6,Nc3,Nf6,d3,Na5,Bb3,Nxb3,axb3,d5,exd5,Nxd5,Ne4,f5,Ng3,Bb4+,Bd2,O-O,N1e2,f4,Bxb4,Nxb4,Ne4,f3,gxf3,Rxf3,N2g3,Bg4,Qd2,Nxd3+,cxd3,Rxd3,Qc2,Qd4,Ra4', 'Rd1+,Qxd1,Qxd1#', 'https://lichess.org/training/57aZe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('57bwO', 'Blitz', 'hoeeO_Skillkill', 1668, 'Petr-21', 1666, 'c4,e6,Nc3,d5,cxd5,exd5,e3,Nf6,Nf3,Bd6,d4,O-O,Bd3,Re8,O-O,Ne4,Nxd5,c5,Bxe4,Rxe4,Qc2,Bf5,Qb3,b6,dxc5,Bxc5,Bd2,Nd7,Bc3,Bf8,Rfd1,Qc8,Rac1,Qb7,Ng5,Rg4,Ne7+,Bxe7', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/57bwO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('57dgc', 'Blitz', 'FM MiauCat', 2332, 'AIM_Royal_Chess_Fan', 2244, 'e4,e6,d4,d5,e5,c5,Qg4,Nh6,Bxh6,gxh6,Nf3,Qb6,Nbd2,Qxb2,Rb1,Qxc2,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Qg6,Qf4,Rg8,g3,h5,Rxb7,Bh6,Qh4,Qf5,dxc5,Rg4,Qh3,Nxc5,Rc7,Nd3,Rb1,h4,Rbb7,Rxg3+,hxg3,Qxh3,Rxf7,Nc5,Rbe7+,Kd8,Nb3,Rc8,Nfd4,hxg3,Nxc5,Rxc5', 'Nxe6+,Qxe6,Rxe6,gxf2+,Kxf2', 'https://lichess.org/training/57dgc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('57nAi', 'Blitz', 'marranosky64', 2103, 'Halakaaa', 2141, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,d6,h3,Na5,c3,Nxb3,axb3,c5,d3,h6,Na3,Bb7,Nc2,O-O,Ne3,g6,c4,Qc7,Nd5,Bxd5,exd5,Kh7,Nd2,Nd7,Nf1,f5,Bd2,b4,Qc1,g5,Kh2,f4,Qc2,Kh8,Qd1,Nf6,Kh1,Qd7,Nh2,Rg8,Ng4,Qe8,Nxh6,Rg7,Nf5,Rh7,Nxe7,Qxe7,f3,Rg8,Rf1,Nh5,Be1,Qd7,Kh2,g4,fxg4,Rxg4,Qxg4,Qxg4,hxg4', 'Ng3+,Kg1,Rh1+,Kf2,Rxf1#', 'https://lichess.org/training/57nAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('57O8C', 'Rapid', 'Aydin010', 1878, 'Shanto14', 1819, 'e4,c5,g3,Nc6,Bg2,g6,Ne2,Bg7,c3,e5,d3,Nge7,Be3,b6,d4,cxd4,cxd4,exd4,Nxd4,Bb7,Nxc6,Nxc6,Nc3,O-O,O-O,f5,exf5,Rxf5,Be4,Rf8,Qd5+,Kh8,Qb3,Rb8,Bg2,Qc7,Nb5,Qc8,Nd6,Qc7,Nf7+,Rxf7,Qxf7,Ne5,Qb3,Bxg2,Kxg2,Qc6+,f3,Rf8,Bf4,Ng4,Rac1,Qa8,Kg1,Nf6,Be5,Re8,Bxf6,Bxf6,Rce1,Bd4+,Kg2,Rf8,Qb4,Bc5,Qc3+,Kg8,Qc4+,d5,Qd3,Qc6,Rd1,Qa4,Qxd5+,Kh8,Qb3,Qa6,Qc3+,Kg8,Rd7', 'Qe2+,Rf2,Qxf2+', 'https://lichess.org/training/57O8C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('57UPA', 'Blitz', 'SamuelLasker', 1806, 'shameer_india', 1796, 'd4,e6,e4,Nf6,Bg5,Be7,e5,Nd5,Bxe7,Qxe7,c4,Qb4+,Nd2,Nf4,b3,Nc6,Nf3,Qc3,Rc1,Nd3+,Bxd3,Qxd3,Qc2,Nb4,Qc3,Qxc3,Rxc3,Nxa2,Re3,b6,O-O,Bb7,Ne4,Nb4,Nfg5,h6,Rh3,Ke7,d5,hxg5', 'd6+,cxd6,exd6+,Kf8,Rxh8#', 'https://lichess.org/training/57UPA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('580nH', 'Blitz', 'CM Bierpower', 2360, 'igram2', 2358, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Bg5,Bd6,Bc4,O-O,Nf3,h6,Bh4,Nbd7,O-O,a6,a4,Qe8,h3,Nh5,Nd5,Nf4,Bg3,Nxd5,Bxd5,Qe7,Qd2,c6,Ba2,Nc5,Qe3,Be6,Bxe6,Qxe6,b4,Nd7,c3,a5,b5,cxb5,axb5,Bc5,Qe2,a4,Rfd1,a3,Rd2,Rfd8,Rd5,f6,Qa2,Kh8,Nh4,b6,Qd2,Qf7,Nf5,Bf8,Nd6,Bxd6,Rxd6,Qe7,Rd5,Nc5,f3', 'Nb3,Rxd8+,Rxd8,Qxd8+,Qxd8', 'https://lichess.org/training/580nH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('581jg', 'Blitz', 'Denshi_Jisho', 1828, 'donobray', 1812, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,Qa5+,N1c3,Qd8,Nd6+,Bxd6,Qxd6,Qe7,Qd1,Nf6,Bg5,O-O,Nd5,Qd8,Bxf6,gxf6,Qg4+,Kh8,c3,d6,Qh4,Rg8,Nxf6,Rg7,Qh6,a6,Bd3,b5,f4,exf4,e5,Qe7,Bxh7,Qxe5+', 'Be4+,Rh7,Qxh7#', 'https://lichess.org/training/581jg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('586ra', 'Blitz', 'te989', 2138, 'Migradodelmal', 2120, 'd4,Nf6,Bf4,d5,e3,c6,c4,g6,Nc3,Bg7,h3,O-O,Nf3,a6,a4,h5,c5,Bf5,b4,Nbd7,Be2,Re8,O-O,Nh7,Qb3,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxe5,Rxe5,Rfd1,Qg5,f4,Qg3,fxe5,Qxe3+,Kh1,Bxh3,Bf3,Ng5,Re1,Qf4,Bxd5,cxd5,Nxd5,Bxg2+,Kxg2,Qd2+,Kf1,Rd8,Rad1,Qh2,Nf6+,Kg7,Rxd8,Nh3,Rg8+,Kh6,Qe3+,g5,Re2', 'Qh1+,Qg1,Qxg1#', 'https://lichess.org/training/586ra');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('588TY', 'Blitz', 'brodacious', 2267, 'Emasculator', 2046, 'b3,Nf6,Bb2,g6,g3,Bg7,Bg2,O-O,d3,c6,e4,d5,e5,Ne8,f4,f6,Nf3,fxe5,Nxe5,Nd7,O-O,Nxe5,Bxe5,Bxe5,fxe5,Ng7,Nd2,Bf5,Qe2,Qd7,Rf2,Bh3,Raf1,Rxf2,Qxf2,Bxg2', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/588TY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('58g73', 'Rapid', 'Anatolaa', 1796, 'elias2004_3141592653', 1755, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Bb4,cxd5,exd5,a3,Ba5,b4,Bb6,Qa4+,Nc6,Bxf6,Qxf6,Nxd5', 'Qxd4,Rd1,Qxf2+', 'https://lichess.org/training/58g73');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('58Ijt', 'Rapid', 'MissMarple2019', 1859, 'remchillhaas', 1844, 'Nf3,b6,g3,Bb7,Bg2,e6,O-O,g5,c4,g4,Ne5,Bxg2,Kxg2,Qg5,d4,Qg7,Nc3,Nc6,Bf4,O-O-O,e3,h5,Qa4,Kb7,Nb5,a5,Nxc6,dxc6,Nxc7,Bd6,d5,Ne7,dxc6+,Nxc6,Nb5,Bxf4,exf4,h4,Rad1,h3+,Kg1,Nd4,Nxd4,Rxd4,Rxd4,Qxd4,Rd1,Qe4,Qd7+,Kb8,Qd6+,Ka8,Kf1,Qxc4+,Qd3,Qc6,Qa6+,Kb8,Qe2', 'Qh1#', 'https://lichess.org/training/58Ijt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('58o5B', 'Classical', 'Underblunder', 1769, 'jg777', 1885, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bd3,Bg4,O-O,e6,h3,Bh5,c3,Bd6,Bg5,f6,Be3,Qc7,Nbd2,O-O-O,a4,g5,b4,Nge7,b5,Na5,g4,Bg6,Qe2,h5,Ne1,hxg4,Bxg6,Nxg6,Qxg4,f5,Qxg5,Rxh3,Qxg6,Rdh8,f4,Rxe3,Ng2,Re2,Rad1,Qxc3', 'Rc1,Qxc1,Rxc1+', 'https://lichess.org/training/58o5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('58pCG', 'Rapid', 'WWJammyDodger', 1962, 'DEP44', 2339, 'd4,e6,e4,d5,exd5,exd5,Bd3,Nf6,Nf3,Be7,O-O,O-O,Bf4,Bg4,Nbd2,c5,dxc5,Nc6,h3,Bh5,g4,Bg6,Nb3,Ne4,Bxe4,dxe4,Qxd8,Raxd8,Ne5,Nd4,Nxd4,Rxd4,c3,Rd5,b4,f5,c4,Rdd8,Nxg6,hxg6,Rad1,fxg4,Rxd8,Bxd8,Bd6,Rf3,hxg4,Rc3,Re1,Rxc4,Rb1,Bg5,Rb3,e3,fxe3,Rxg4+,Kf2,Rc4,Kf3,Kf7,a4,Bf6,a5,Be7,Be5,g5,e4,Bf6,Bd6,Be7,e5,Ke6,b5,Bd8,a6,b6,cxb6,Bxb6,Bb8,Rh4,Kg3,Rc4,Rd3,Rb4,Rd6+,Kf5,Rxb6,axb6,a7,Ra4,Kf3,Ra3+,Kg2,g4,Kf2,g5,Kg2,Ke4', 'e6,Ra2+,Kg3,Kf5,e7', 'https://lichess.org/training/58pCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('58rCM', 'Blitz', 'Sharkan_18', 1758, 'babybuab12', 1727, 'd4,d5,Nf3,Nf6,Bg5,Nc6,Bxf6,exf6,e3,Bb4+,Nbd2,Bg4,Be2,Qe7,a3,Bxd2+,Qxd2,O-O,b4,a5,c3,axb4,cxb4,Nxb4,O-O,Nc6,a4,Nb4,Rfb1,c5,dxc5,Nc6,Rc1,Qe4,a5,Ra6,Bxa6,bxa6,Rab1,Bxf3,gxf3,Qxf3,Rb6,Ne5,Qd1,Qh3,Qf1', 'Nf3+,Kh1,Qxh2#', 'https://lichess.org/training/58rCM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('58S0J', 'Rapid', 'badplayer_CM', 2070, 'CoachAleks', 1930, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be2,O-O,O-O,a6,Be3,Nc6,f3,Ne5,Qd2,b5,Rad1,Nc4,Bxc4,bxc4,Nd5,Nxd5,exd5,Bb7,Nf5,Bf6,c3,c6,dxc6,Bxc6,Qxd6,Qxd6,Rxd6,Bb5,Rfd1,Rad8,Rxd8,Rxd8,Rxd8+,Bxd8,Nd6,Kf8,Nxb5,axb5,Kf2,Ke8,Kg3,Kd7,h3,Ke6,Kf4,Bc7+,Ke4', 'f5+,Kd4,Bb6#', 'https://lichess.org/training/58S0J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5911y', 'Rapid', 'woodswoods', 1860, 'Netodasilva', 1886, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,d5,Nf3,dxc4,e3,Bxc3,Bxc3,b5,a4,c6,Ne5,Bb7,Qf3,a6,axb5,axb5,Rxa8,Bxa8,Bb4,Qd5,Be2,Nbd7,Nxd7,Nxd7,O-O,Qxf3,Bxf3,Nf6', 'Ra1,Bb7,Ra7', 'https://lichess.org/training/5911y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('597dl', 'Classical', 'Kripsojmg', 1774, 'kvartem', 1650, 'e4,c6,Nf3,d5,exd5,cxd5,Ne5,Nd7,Bb5,Nf6,Qf3,a6,Bxd7+,Bxd7,d4,Bg4', 'Nxg4,Nxg4,Qxg4', 'https://lichess.org/training/597dl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('59jlv', 'Blitz', 'Ehema', 1781, 'MaunChessGod', 1900, 'Nf3,b6,g3,Bb7,Bg2,d6,O-O,Qc8,d4,h5,Re1,h4,e4,hxg3,fxg3,Nf6,e5,Ng4,exd6,cxd6,h3,Nf6,Qe2,Qf5,Bf4,Nbd7,Bxd6,Ne4,Bf4,g5,Nxg5,Nxg5,Bxg5,Qxg5,Bxb7,Qxg3+,Kf1,Rd8,Bg2,Nf6,Nc3,Rxd4,Rad1,Rf4+,Kg1,Rxh3', 'Qb5+,Nd7,Qxd7#', 'https://lichess.org/training/59jlv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('59lMu', 'Rapid', 'Hamu_Tv', 1749, 'mohanchetri', 1692, 'd4,d5,c4,c6,Nf3,c5,cxd5,Qxd5,Nc3,Qd8,d5,e6,e4,exd5,Nxd5,Nc6,Bc4,Nf6,Bf4,Bd6,Nxf6+,Qxf6,Bxd6,Bg4,h3,O-O-O,hxg4,Rxd6,Qa4,a6,Rb1,b5,Bxb5,axb5,Qxb5,Kc7,Qxc5,Rhd8,e5,Qe6,O-O,Rd5,Qc3,Kd7,Rfe1,Ke8,Rbc1,Ne7,a4,Qxg4,a5,Nc8,Qc6+,R5d7,e6,fxe6,Rxe6+,Kf8,Ne5', 'Rd1+,Rxd1,Rxd1+,Kh2,Qh4#', 'https://lichess.org/training/59lMu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('59qUo', 'Rapid', 'Doctor2up', 1744, 'Juusal', 1646, 'e4,Nc6,d4,d6,c4,e5,d5,Nce7,f4,exf4,Bxf4,Ng6,Bg3,Be7,Nc3,f5,Bd3,fxe4,Nxe4,Nf6,Nf3,O-O,O-O,Nxe4,Bxe4,Bf5,Qc2,Bxe4,Qxe4,Bf6,Nd4,Bxd4+,Qxd4,Rxf1+,Rxf1,Qe7,Re1,Qf6,Qxf6,gxf6,Re6,Kf7,c5,Rd8,cxd6,cxd6,Rxd6,Rxd6,Bxd6,Ne7,Bb8,a6,d6,Nc6,Bc7,Ke6,Kf2,Ne5,Ke2,Nc4,b3,Nxd6,Bxd6,Kxd6,Ke3,Ke5,a3,b5,b4,h5,h4,f5,g3,Kf6', 'Kf4,Ke6,Kg5', 'https://lichess.org/training/59qUo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('59TAq', 'Rapid', 'DiegoHDids', 1640, 'adrivalla', 1632, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c3,a6,Ba4,b5,Bc2,Ng6,d4,exd4,cxd4,h6,O-O,Bb4,Nc3,d6,Bd2,Ba5,Re1,O-O,a3,Bg4,Be3,Nh4,Rc1,Nxf3+,gxf3,Bh5,b4,Bb6,Qd3,Bg6,f4,f5,Kh1,Ne7,Rg1,Qe8,Bb3+,Kh8,f3,Kh7,Nd5,Nxd5,Bxd5,Rd8,Rg3,fxe4,fxe4,c6,Bxc6,Qe7,f5,Bf7,Rcg1,Rg8,Qd2,d5,e5,Qh4,Qg2,Qe4,Qxe4,dxe4,Bxe4,Bxd4,f6+,g6,Bxh6,Bxg1,Rh3,Rh8', 'Bg7+,Kg8,Rxh8#', 'https://lichess.org/training/59TAq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('59Tta', 'Classical', 'iPiro', 1763, 'G4G5EZ', 1845, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,O-O,Be7,Be3,b5,Bb3,b4,Nce2,Nxe4,f3,Nc5,a3,Nxb3,Nxb3,bxa3,Rxa3,Nc6,Ned4,Nxd4,Bxd4,d5,Bc5,Bxc5+,Nxc5,O-O,Qd3,Qb6,Qd4,Bd7,Rb3,Qa7', 'Rb7,Qxb7,Nxb7', 'https://lichess.org/training/59Tta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('59XKN', 'Rapid', 'm0987', 1641, 'Bul567', 1671, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Nd4,Nxd4,exd4,O-O,c6,Bc4,d6,Nd2,Be7,Nf3,Bg4,h3,Bxf3,Qxf3,O-O,Bg5,b5,Bb3,c5,c4,b4,a3,Nh5,Bxe7,Qxe7,Qxh5,bxa3,bxa3,g6,Qf3,f5,Rfe1,fxe4,Qxe4,Qf6,Qe6+,Qxe6,Rxe6,Rad8,Bd1,Rf7,Bf3,Kg7,Bd5,Rdf8,Rxd6,Rxf2,Rd7+,Kh6,Bf3,Rd2,Re1,Rxd3,Ree7,Rb8,Rxh7+,Kg5,h4+,Kf4,Rhf7+,Kg3,Be2,Rb1+,Bf1,Rd2,Rf3+,Kxh4,Rdf7,g5,Kh2,Kg4,Rg3+,Kh5,Rf5,Kh6,Rfxg5,Rxf1,R5g4,Re2', 'Rh3#', 'https://lichess.org/training/59XKN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('59XQw', 'Rapid', 'enrique10', 1758, 'bwer9870', 1791, 'e4,c5,Nc3,Nc6,Nge2,e5,g3,g6,Bg2,Bg7,O-O,Nge7,d3,O-O,Be3,d6,Nd5,Nxd5,exd5,Ne7,Qd2,Nf5,Bg5,Qb6,a3,Qxb2', 'Rfb1,Qxa1,Rxa1', 'https://lichess.org/training/59XQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('59yQt', 'Rapid', 'GQWERTY', 1752, 'jjero67', 1788, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,Nc3,Ng6,Bd3,Nf6,Be3,a6,Qd2,Bg4,Be2,h6,h3,Bxf3,gxf3,Be7,O-O-O,Nh5,Rdg1,Rg8,Kb1,Nhf4,Bxf4,Nxf4,Bd1,Qd7,h4,O-O-O,Ne2,Nxe2,Bxe2,Rde8,f4,exf4', 'Bg4,Qxg4,Rxg4', 'https://lichess.org/training/59yQt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('59yXA', 'Blitz', 'Chesssknock', 2638, 'IM stvngrnrt', 2546, 'd4,Nf6,Bf4,e6,e3,b6,c3,Bb7,Nd2,c5,Nc4,d5,Ne5,Bd6,Bb5+,Kf8,Ngf3,Qc7,Be2,Ne4,Nd3,c4,Bxd6+,Qxd6,Nf4,g5,Nh5,Nd7,Ng3,h6,Nxe4,dxe4,Nd2,b5,O-O,f5,f3,Nf6,fxe4,Nxe4,Nxe4,Bxe4,Bf3,Qd5,Bxe4,Qxe4,Qf3,Qxf3,Rxf3,Ke7,e4,f4,g3,fxg3,hxg3,h5,Raf1,Raf8,Rxf8,Rxf8,Rxf8,Kxf8,Kg2,Kf7,Kf2,Kf6,a3,Ke7,Ke2,Kd6,Kf3,Ke7,Kf2,Kf6,Ke3,Kg6,Kf3,Kf6,Ke3,Kg6,Kf3,Kf6,Ke3,h4,gxh4,gxh4,e5+,Kf5,Kf2,Kf4,Kg2,Kf5,Kh2,Kf4,Kh1,Ke4,Kg1,Kf5,Kg2,Kf4,Kh1,Kg4', 'd5,Kf5,d6', 'https://lichess.org/training/59yXA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5A117', 'Blitz', 'jorgeariza', 1959, 'DrWagner', 1907, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,c4,e6,c5,Nc6,Be3,Nge7,Bd3,Bg6,O-O,Nf5,a3,Be7,b4,O-O,b5,Nb8,Ne5,Nd7,Nxg6,hxg6,Bxf5,gxf5,Qh5,Nf6,Qh3,Rc8,Nd2,Ng4,Nf3,Bf6,Rad1,Qe7,a4,Rfd8,Qg3,Kf8,h3,Nh6,Bxh6,gxh6,Ne5,Bxe5,Qxe5,f6,Qf4,Kf7,Qxh6,Rh8,Qf4,Rcg8,Rd3,Rg5,Rg3,Rhh5,Rxg5,Rxg5,Kh2,e5,dxe5,fxe5,Qf3,Qxc5,h4,Rg6,Qxf5+,Rf6,Qxe5,Qc4,Re1,Qxh4+,Kg1,Qxf2+,Kh1,Qh4+,Kg1', 'Qf2+,Kh2,Rh6+,Qh5+,Rxh5#', 'https://lichess.org/training/5A117');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5a11v', 'Blitz', 'Nixtagangsta', 1626, 'MikaRatilainen', 1697, 'e4,e5,f4,exf4,Nf3,d6,d4,g5,h4,f6,Nc3,Bg4,Be2,Nc6,Nd2,Bxe2,Qxe2,Qd7,hxg5,fxg5,Qh5+,Qf7,Qxg5,Be7,Qb5,O-O-O,Nf3,a6,Qd3,d5,e5,Bb4,Bd2,Nge7,O-O-O,h5,Ne2,Bxd2+,Qxd2,Rdf8,Rh2,Kb8,Nh4,f3,gxf3,Nc8,f4,Nb6,f5,Nc4,Qc3,Rhg8,Ng6,Rxg6,fxg6,Qxg6,Rg1', 'Qxg1+,Nxg1,Rf1+,Qe1,Rxe1#', 'https://lichess.org/training/5a11v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5A6En', 'Classical', 'Mohamed_Hani', 1823, 'CJGolka', 1771, 'e4,c5,Bc4,d6,Nf3,Nc6,Nc3,Nf6,O-O,Bg4,d4,Nxd4,Ne5,e6', 'Nxg4,Nxg4,Qxg4', 'https://lichess.org/training/5A6En');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5A6jL', 'Rapid', 'cleber_x', 2286, 'dirtychesstricks', 2178, 'c4,Nf6,Nc3,g6,d3,Bg7,g3,O-O,Bg2,c5,e4,d6,Nge2,Nc6,O-O,a6,h3,e5,Be3,Nd4,Qd2,Nd7,f4,f5,Nd5,Nf6,Nec3,fxe4,Nxf6+,Bxf6,Nxe4,Bg7,Rf2,Nf5,fxe5,Bxe5,Kh2,Bd7,Bg5,Qc7,Bf4,Bxf4,Qxf4,Nd4,Qxd6', 'Qxd6,Nxd6,Rxf2', 'https://lichess.org/training/5A6jL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5A7Jt', 'Rapid', 'KleitonBernardino', 1767, 'Usman95', 1713, 'e4,e5,Nf3,Bc5,Nxe5,Qh4,Qf3,Nf6,Bc4,Qxe4+,Qxe4,Nxe4,Bxf7+,Ke7,f3,Nf6,d3,d6,Bg5,dxe5,Bb3,Be6,c4,h6,Bh4,g5,Bg3,Bd4,Nc3,Bxc3+,bxc3,Rd8,O-O-O,Nc6,Rhe1,Nd7,d4,exd4,cxd4,Na5,d5,Nxb3+,axb3,Nc5,b4,Kf6,Bxc7,Rdc8,Be5+,Kf5,bxc5,Bf7,Bd6,a5,g4+,Kg6,Re7,a4,Rxb7,a3,Rb1,a2,Ra1,Re8,Rd2,Re1+,Kb2,Rxa1,Kxa1,Ra4,Rxa2,Rxc4,c6,Bxd5,c7,Bxf3,Ra6,Kf7,Ra7,Ke8,Ra3,Kd7,Rd3,Bxg4,Bg3+,Kc8,Rd8+,Kb7,Rb8+,Ka7,Bf2+,Ka6,Rb6+,Ka5,Rb8,Rxc7', 'Bb6+,Kb5,Bxc7+', 'https://lichess.org/training/5A7Jt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5A81A', 'Rapid', 'afeef_arman', 1955, 'Imran_Azaharuddin', 1867, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,Bd6,O-O,O-O,c3,c6,Bg5,Be6,Nbd2,Nbd7,Re1,Qc7,h3,h6,Bxf6,Nxf6,Bd3,Rfe8,Qc2,Bd7,Kh1,Qc8,Ng1,Bb8,Rxe8+,Bxe8,Re1,Qc7,Ngf3,Bd7,c4,dxc4,Bxc4,b5,Bb3,Qb6,Re7,Be8,Ne4,Bf4,Nxf6+,gxf6,Qf5,Qd8,Rb7,Bc7,Qg4+,Kf8,Qh5,Kg7,Qg4+,Kf8,Qh5,Kg7,d5,Rb8,Rxa7,Bb6,Qg4+,Kf8,Ra6,Bd7,Qb4+,c5,Qh4,Kg7,d6,Bc8,Qg3+,Kf8,Ra3,c4,Bc2,Bc5,Ra7,Bxa7,d7,Bxd7,Qd6+,Ke8,Qd5,Qb6,Qe4+,Qe6,Qh7,Ke7,Kh2,Rf8,Nh4,Qe5+,g3,Bxf2', 'Ng6+,Kd8,Nxe5', 'https://lichess.org/training/5A81A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5AbgD', 'Rapid', 'ismailbuyuk', 1906, 'samihayek', 1935, 'e4,c5,Bc4,e6,Nc3,a6,Nge2,b5,Bb3,Nc6,O-O,c4,Ba4,bxa4,Nxa4,Bb7,c3,Nf6,Qc2,Be7,d3,cxd3,Qxd3,Ne5,Qg3,O-O,Qxe5,d6,Qd4,Nxe4,f3,e5,Qe3,Bg5,Qd3,Bxc1,fxe4,Bg5,Rad1,Qa5,b3,Be7,c4,Rad8,Nac3,Qb6+,Kh1,Qc6,Nd5,Bg5,Qg3,f6,h4,Bf4,Nexf4,exf4,Rxf4,Kh8,h5,Qe8,h6', 'Qh5+,Kg1,Qxd1+,Rf1,Qd4+', 'https://lichess.org/training/5AbgD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5aCh1', 'Rapid', 'Rasid19833', 1770, 'Pedram_S', 1799, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Qe2,Qf5,Nf3,Bd7,d3,Na6,Be3,Nb4,a3,Nd5,Qd2,Nxc3,Qxc3,Bc6,Nd4,Qg6,Nxc6,Qxc6,Qxc6+,bxc6,g3,e5,Bg2,Kd7,d4,f6,dxe5,fxe5,O-O-O+,Bd6,c4,Ke7,c5,Nf6,cxd6+,cxd6,f4,Ng4,fxe5,Nxe3,exd6+,Kd7,Bxc6+,Kxc6,Rd3,Nd5,Rhd1,Nf6,Rc3+,Kb6,Rd4,Rac8,Rb4+,Ka6,Rxc8,Rxc8+,Kb1,Rc6,Rd4,Nd7,b4,Kb7,a4,a6,g4,Kc8,g5,Kd8,h4,Ke8,Re4+,Kf8,Re6,g6,Kb2,Nb6', 'd7,Rxe6,d8=Q+', 'https://lichess.org/training/5aCh1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5AcWr', 'Rapid', 'Bikovic', 1954, 'damianlitwik', 1954, 'e4,d5,e5,Bf5,d4,e6,a3,c5,Bb5+,Nc6,dxc5,Bxc5,b4,Bxf2+,Kxf2,Qb6+,Be3,Qxb5,Nf3,Nge7,Nc3,Qa6,Qd2,O-O', 'b5,Qa5,bxc6', 'https://lichess.org/training/5AcWr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5AESH', 'Rapid', 'Hans_Grob', 2060, 'PankajSurya', 2120, 'e4,d5,exd5,e6,dxe6,Bxe6,Nf3,Nf6,d4,Bb4+,c3,Bd6,Bd3,Qe7,O-O,O-O,Ng5,h6,Nxe6,fxe6,Nd2,Nd5,Nf3,Nc6,Be4,Nf6,Bxc6,bxc6,Qe2,Ng4,h3,Rxf3,Qxf3,Nh2,Qxc6,Rf8,Be3,Nxf1,Kxf1,Qh4,Ke2,Qh5+,Kd2,Qg6,g4,Rd8,Rg1,e5,Qf3,Rb8,b3,Rf8,Qd5+,Kh8,h4,exd4,Bxd4,Be7,g5,c5,Be3', 'Rd8,Qxd8+,Bxd8', 'https://lichess.org/training/5AESH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5AIjX', 'Blitz', 'Strange20', 2615, 'miskob', 2115, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d3,Bg4,h3,Bh5,Nbd2,a6,Nf1,Nge7,Ng3,Bg6,Bb3,Na5,Bc2,Nac6,O-O,O-O,d4,Bb6,Nh4,Nb8,Be3,Nd7,Bb3,Kh8,Nhf5,f6,Kh2,Nxf5,exf5,Bf7,Bc2,d5,a4,a5,Qg4,e4,Bf4,c6,f3,exf3,Rxf3,Bc7,Raf1,Re8,Nh5,Rg8,Rg3,Bxh5,Qxh5,Bxf4,Rxf4,Qe8', 'Qxh7+,Kxh7,Rh4+,Qh5,Rxh5#', 'https://lichess.org/training/5AIjX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5aIuf', 'Rapid', 'wachenichess', 2288, 'Ignaa--sepu', 1793, 'd4,Nf6,Bf4,g6,Nc3,d6,e4,Bg7,Qd2,O-O,O-O-O,Nbd7,f3,e5,dxe5,dxe5,Bxe5,Nxe4,Nxe4,Bxe5,Bb5,c6,Bc4,Qb6,Bb3,a5,a4,Qc7,Ne2,b5,f4,Bxb2+,Kxb2,bxa4,Bxa4,Rb8+,Ka1,Rb4,Bb3,Rxe4,g3,Rfe8,Nc3,R4e7,Rhe1,Rxe1,Rxe1,Rxe1+,Qxe1,Nc5,Qe8+,Kg7,Bc4,Qd7', 'Qe5+,Kg8,Qxc5', 'https://lichess.org/training/5aIuf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5aIvh', 'Classical', 'KaranRajput', 1719, 'Panman89', 1647, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Bb4,a3,Bxc3,dxc3,Nf6,O-O,O-O,Bd3,Re8,Nh4,Nxe4,Qh5,Nf6,Qf3,e4,Bxe4,Nxe4,Nf5,Ng5,Qg3,d6,Nxh6+,gxh6,f4,Kg7,fxg5,hxg5', 'Bxg5,Qxg5,Qxg5+', 'https://lichess.org/training/5aIvh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5aNRV', 'Rapid', 'sniperheat', 1838, 'Ilovecholpon', 1763, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,Nc3,Ba6,d3,Nf6,Bg5,Be7,Bxf6,Bxf6,h3,O-O,Qd2,Re8,O-O,d5,Qe2,h6,a3,Rb8,Rab1,Bg5,Nxg5,Qxg5,exd5,cxd5,Nxd5,e4,Nxc7', 'exd3,Qxe8+,Rxe8', 'https://lichess.org/training/5aNRV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Arvu', 'Rapid', 'bert45', 1980, 'DIEGOMERLO', 1712, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e5,Nf3,Nc6,Bc4,Bc5,Qd5,Qe7,Nb5,Kd8,Bg5,f6,Bd2,a6,Nc3,b5,Be2,Bb6,O-O,Nh6,Bxh6,gxh6,Nh4,Rb8,Nf5,Qe6,Qd2,Rg8,Rac1,Nd4,Nxd4,Bxd4,Nd5,Bb7', 'Qa5+,Ke8,Nc7+,Ke7,Nxe6', 'https://lichess.org/training/5Arvu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5AsZj', 'Rapid', 'Volcoom', 1777, 'Ervinn', 1730, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,h6,O-O,Bg4,h3,Bh5,g4,Bg6,f5,Bh7,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qf2,Nd7,Bf4,Ne5,Bxe5,dxe5,Bb5+,Ke7,Nd5+,Kd6,Rad1,Qa5,Ne7+,Kxe7,Qxc5+,Kf6,g5+,hxg5', 'Rd6+,Bxd6,Qxd6#', 'https://lichess.org/training/5AsZj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5avFA', 'Classical', 'coannesru', 1734, 'patil030', 1645, 'e4,e5,Bc4,Nf6,Nc3,Bb4,Nd5,Nxe4,Qg4,Ng5,c3,Bd6,d4,h6,dxe5,Bxe5,Qf5,Bf6,Nf3,O-O,Nxg5,Re8+,Kf1,Bxg5,Bd3,g6,Qh3,d6,Qf3,c6', 'Bxg5,hxg5,Nf6+,Kg7,Nxe8+', 'https://lichess.org/training/5avFA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5AvjE', 'Blitz', 'dkabil', 1630, 'Elnar_Moff', 1626, 'e4,e5,Nf3,Nc6,d3,d6,Be2,f5,exf5,Bxf5,O-O,Nf6,Nbd2,Be7,Nb3,a6,h3,Be6,Nh2,Qd7,Ng4,Nxg4,Bxg4,Bxg4,Qxg4,Qxg4,hxg4,h5,gxh5,Rxh5,f3,O-O-O,Kf2,Rdh8,Be3,Bh4+,Ke2,Re8,a3,Nd4+,Kd2,Bg5,Bxg5,Rxg5,Rf2,Rh8,Nxd4,exd4,g4,Rf8,Re1,Kd7,Re4,c5,Ke2,d5,f4,Rxg4,Re5,Kd6,Rg5,Rgxf4,Rxf4,Rxf4,Rxg7,Kc6,b3,Rh4,Rg6+,Kc7,Kd1,Rh2,Kc1,a5,Rg5,Kc6,Rg6+,Kb5,Kb2,Rh3', 'a4+,Kb4,Rb6#', 'https://lichess.org/training/5AvjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5aYrT', 'Rapid', 'Andey0706', 1871, 'Aleev', 1739, 'd4,Nf6,c4,g6,Nf3,Bg7,g3,d6,Bg2,O-O,Bf4,Nh5,Bg5,h6,Bd2,Nc6,Bc3,Bg4,d5,Bxf3,Bxf3,Ne5,Bxh5,gxh5,h4,Ng4,Bxg7,Kxg7,O-O,e5,dxe6,fxe6,Nd2,Qf6,Ne4,Qxb2,Rb1,Qe5,Qd3,d5,cxd5,exd5,f4,dxe4', 'Qd7+,Rf7,Qxf7+,Kxf7,fxe5+', 'https://lichess.org/training/5aYrT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5b1ZI', 'Rapid', 'Juancho7111', 1890, 'M__P', 1850, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5a3,g6,Nc3,Bg7,Be3,Nf6,Nd5,Ne7,Bb6,Qd7,Nc7+,Kf8,Nxa8,Qc6,Be3,b5,cxb5,Qxa8,bxa6,Bxa6,Bxa6,Qxa6,f3,d5,Qe2,Qa5+,Qd2,Qa6,exd5,Nfxd5,Kf2,f5,Rhd1,Nxe3,Qxe3,Qb5,Rd8+,Kf7,Rxh8,Qxb2+,Qe2,Qd4+,Kg3,Qf4+,Kf2,Qd4+,Qe3,Qb2+,Kg3', 'f4+,Kh3,fxe3', 'https://lichess.org/training/5b1ZI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5b1ZW', 'Blitz', 'Insanoglu00', 1803, 'yceliker12', 2336, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,d6,h3,h6,d3,g5,Be3,g4,Nh2,gxh3,g3,Rg8,Bxc5,dxc5,Nd5,Bd7,Nxf6+,Qxf6,Qh5,Rg5,Qh4,O-O-O,f4,exf4,Rxf4,Qd4+,Rf2,Rdg8,Bxf7,Rxg3+,Kf1,Qxb2,Rd1,Rg1+,Ke2,Nd4+,Ke3,R8g3+,Kf4,R3g2,Rxg1,Rxf2+,Qxf2,b6,Rg8+,Kb7,Bd5+,Ka6,Rb8,Nxc2,Bb7+,Ka5,Qd2+,Nb4,Qxb2,Nxd3+,Ke3,Nxb2,Rd8,Be6,Bd5,Bxd5,exd5,Nc4+,Ke4,Nd6+,Kd3,Kb4,Rh8,c4+,Kc2,Kc5,Rxh6,Kxd5,Rxh3,b5,Nf3,b4,Nd2,a5,Rh5+,Kd4,Rxa5,c6,Ra4,Kc5,a3,b3+,Kc3', 'Nb5+,Kb2,c3+,Kxb3,cxd2', 'https://lichess.org/training/5b1ZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5b2M0', 'Rapid', 'Voprak', 1977, 'intobolivian', 2345, 'Nf3,d5,d4,c6,c4,Nf6,Nc3,e6,Bg5,dxc4,a4,b5,axb5,cxb5,Nxb5,Qb6,Nc3,Qxb2,Qc1,Qxc1+,Rxc1,Nc6,Bxf6,gxf6,e3,Ba3,Rb1,Bb4,Rc1,Ba6,Be2,Rb8,O-O,Ke7,Na4,Na5,Nc5,Bxc5,dxc5,Rhc8,Ra1,Rxc5,Nd4,Rb6,Bf3,Nb3,Ra4,c3,Nxb3,Rxb3,Rxa6,Rc7,Rc1,c2,Kf1', 'Rb1,Ra1,Rxa1', 'https://lichess.org/training/5b2M0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5b69Z', 'Rapid', 'ded_0k', 1722, 'Dissident86', 1742, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,b3,e5,Bb2,Bb4,Bc3,Bxc3,Nxc3,Nd4,Nf3,O-O,Be2,Re8,O-O,Bf5,Nh4,Be6,Bf3,Rb8,Re1,Nd7,g3,Nf5,Nxf5,Bxf5,Be4,Bxe4,Nxe4,Nb6,Qf3,Qe7,d3,Nd7,Nc3,Nc5,Nd5,Qd6,b4,Ne6,Rac1,Ng5,Qe2,f6,a4,Qe6,Nc7,Qc6,Nxe8', 'Nh3+,Kf1,Qh1#', 'https://lichess.org/training/5b69Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5B7OO', 'Blitz', 'hallore53', 1947, 'Xloe50', 1852, 'Nc3,d5,e4,d4,Nce2,e5,Ng3,g6,Bc4,Bg7,Nf3,Nc6,d3,h6,h3,Nge7,O-O,O-O,a3,a6,Bd2,Kh7,Nh2,f5,exf5,Nxf5,Qe2,Qh4,Be1,Bd7,Nxf5,Rxf5,f3,Qe7,Bd2,Raf8,Rae1,h5,Bd5,Qh4,Be4,R5f7,Qf2,Qd8,Qg3,Bf5,Bg5,Bf6,Bxf6,Qxf6,Bxc6,Qxc6,Re2,Re8,Rfe1,Rfe7,Qf2,Qd6,Nf1,Bd7,Ng3,Bc6,Ne4,Bxe4,fxe4,Kg7,Rf1,c5,Qg3,b5,Ref2,Re6,Qg5,R8e7,Rf8,c4,Rh8,Kxh8', 'Qh6+,Rh7,Rf8+,Qxf8,Qxf8#', 'https://lichess.org/training/5B7OO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5B7ZB', 'Rapid', 'MattiChan', 1641, 'pb14', 1608, 'd4,e6,c4,d5,Nc3,Bb4,Bd2,a5,a3,Bxc3,bxc3,Nc6,cxd5,exd5,e3,Nf6,f3,Bd7,c4,O-O,cxd5,Nxd5,Bc4,Be6,Bd3,Nce7,Ne2,Nf6,e4,c6,Rc1,a4,O-O,Bb3,Bc2,h6,Bxb3,axb3,Qxb3,c5,Rxc5,Nc6,Qxb7,Nxd4,Nxd4,Qxd4+,Kh1,Qxc5,e5,Nh7,Bb4,Rfb8', 'Qxb8+,Rxb8,Bxc5', 'https://lichess.org/training/5B7ZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Baaz', 'Rapid', 'useruseruser0', 1731, 'sirkirpi3', 1725, 'c4,e5,g3,d5,cxd5,Nf6,Nc3,Nxd5,Bg2,Nxc3,bxc3,Bd6,e3,Nd7,Ne2,Nf6,O-O,Rb8,Bb2,Bd7,Rb1,Qc8,Re1,Bh3,Qa4+,c6,Bxh3,Qxh3,f3,O-O,a3,a6,Qh4,Qxh4,gxh4,e4,f4,Rfd8,Nd4,Be7,Kf2,Ng4+,Kg3,Nh6,Rg1,c5,Ne2,Nf5+,Kg4,Nxh4,Ng3,Rxd2,Nf5,Nxf5,Kxf5,Rxh2,c4,f6,Ke6,Re8,Kd7,Kf7', 'Rxg7+,Kxg7,Kxe8', 'https://lichess.org/training/5Baaz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5BAjn', 'Blitz', 'FM MIKHAIL_KHV-27', 2265, 'norba94', 2319, 'd4,Nf6,c4,e6,Nc3,b6,Bg5,Bb7,Nf3,Bb4,e3,h6,Bh4,O-O,Be2,g5,Bg3,Ne4,Qd3,f5,O-O-O,Bxc3,bxc3,Qe7,Kb2,d5,Ne5,Kg7,f3,Nd6,c5,Nc4+,Nxc4,dxc4,Qxc4', 'Ba6,Qa4,Bxe2', 'https://lichess.org/training/5BAjn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5BFvb', 'Classical', 'L4m1ng4', 2035, 'Fuzzy-Logic', 1937, 'e4,e6,e5,d5,exd6,cxd6,Nf3,Nf6,d4,d5,Bd3,Bd6,O-O,h6,Nbd2,O-O,b3,Re8,c4,b6,Bb2,Bb7,Rc1,Nbd7,Re1,Rc8,a3,a5,Nb1,Bf4,Rc2,Ba6,g3,Bd6,Ne5,Nf8,f4,Bb7,Nc3,Qe7,Nb5,Bb8,Qd2,Red8,Rec1,N8d7,b4,axb4,axb4,Ne4,Bxe4,dxe4,Nxd7,Qxd7,Qc3,f6,Qe3,Bd6,Nxd6,Qxd6,c5,bxc5,dxc5,Qd3,Kf2,Qxe3+,Kxe3,Rd3+,Ke2,Ba6,Kf2,Rc6,Ra1,Rf3+,Kg1,Bd3,Rf2,Re3,Bd4,Re2,Rxe2,Bxe2,Ra8+,Kf7,Rb8,Rc7,Kf2,Bc4,b5,e5,fxe5,fxe5,b6,Rc6,Bxe5,Rxc5,b7,Rxe5', 'Rf8+,Kxf8,b8=Q+,Re8,Qb4+,Re7,Qxc4', 'https://lichess.org/training/5BFvb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Bi8o', 'Blitz', 'thorthugnasty', 1986, 'jambokampy', 1984, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Nf3,e5,d5,a5,O-O,Na6,Bg5,h6,Bd2,Nc5,Qc2,Bd7,Ne1,c6,f4,exf4,Bxf4,Re8,Bf3,cxd5,exd5,Bf5,Qd2,g5,Bg3,Nfe4,Nxe4,Bxe4,Kh1,Bxf3,Nxf3,Ne4,Qd3,Nxg3+,hxg3,Bxb2,Rab1,Bg7,Rxb7,Rb8,Rxf7,Kxf7', 'Nxg5+,Kg8,Qh7#', 'https://lichess.org/training/5Bi8o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5bkQF', 'Blitz', 'tozzi', 1742, 'matimati1', 2083, 'e4,c5,b4,cxb4,a3,bxa3,Nxa3,d5,exd5,Qxd5,Bb2,a6,Nf3,Nc6,Bc4,Qd8,O-O,e6,Re1,Be7,Bxg7,Bf6,Bxf6,Qxf6,d4,b5,Bb3,Nge7,Nxb5,O-O,Nd6,Bd7,c3,Nd5,Bc2,Qg7,Re4,Nxc3,Qd3,Nxe4,Nxe4,Ne7', 'Nf6+,Kh8,Nxd7', 'https://lichess.org/training/5bkQF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5BllZ', 'Rapid', 'realgee', 1775, 'shabir_lone', 1714, 'f4,d5,Nf3,h6,e3,Bf5,d3,Nf6,b3,c6,Be2,e6,O-O,Qc7,Bb2,Nbd7,h3,g5,Ne5,Rg8,Nxf7,Kxf7,Bh5+,Bg6,fxg5,hxg5,Bg4,Bd6,Qf3,Bh2+,Kh1,Be5,d4,Bd6,Nd2,Rae8,e4,dxe4,Nxe4,Bxe4,Qxe4,Ke7,Qxe6+,Kd8,Qf5,Nxg4,Qxg4,Kc8,Rf7,Re7,Raf1,Rxf7,Rxf7,Rd8,Qxg5,Kb8,c4,Rf8,Qg7,Rxf7,Qxf7,Bg3', 'Qg8+,Qc8,Qxg3+', 'https://lichess.org/training/5BllZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5BLoG', 'Rapid', 'SuryakiranHaridas', 1786, 'CHECKMATE_06', 1920, 'e4,e5,Nf3,d6,Nc3,Be6,d3,Nc6,Be2,Be7,O-O,Nf6,Bg5,O-O,Qd2,h6,Bh4,Nh7,Bxe7,Qxe7,h3,f5,exf5,Bxf5,Nd5,Qd7,Nh2,Nd4,Bg4,Bxg4,Nxg4,c6,Nde3,Nf6,c3,Ne6,Rfe1,Qf7,Re2,Nd5,c4,Ndf4,Ree1,Nd4,Kh2,Nf5,Nxf5,Qxf5,Ne3,Qg5,g3,Nxd3,Qxd3,Rxf2+,Ng2,Raf8,Qe3,Qg6,Re2,R8f3,Rxf2', 'Qxg3+,Kg1,Rxe3', 'https://lichess.org/training/5BLoG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5bnQh', 'Blitz', 'muharom', 1707, 'berkayc23', 1807, 'e4,c5,f4,e6,Nf3,d5,e5,Nc6,a3,Nge7,Bb5,g6,d3,Bg7,O-O,O-O,Nbd2,f6,h3,fxe5,fxe5,Nxe5,Nxe5,Bxe5,Nf3,Bg7,Bg5,Qc7,Qe1,Nf5,Nh2,c4,dxc4,dxc4,Ng4,Qb6+,Kh1,Qxb5,Bh6,Bd7,Bxg7,Kxg7,Rd1,Rae8,Rxd7+,Qxd7,Qe5+,Kf7,Rxf5+,gxf5', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/5bnQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Bo1R', 'Classical', 'Ben_Yish_Hadar', 1982, 'TuxDavid', 1969, 'e4,c5,Nf3,Nc6,Bb5,Qc7,c3,a6,Bxc6,Qxc6,Qe2,Nf6,d3,d5,exd5,Nxd5,O-O,e6,d4,cxd4,Nxd4,Qd6,Nd2,Be7,Ne4,Qd8,f4,O-O,f5,e5,Nf3,f6,Nh4,b5,Bd2,Bb7,Rad1,Qb6+,Kh1,Rad8,Rf3,Rfe8,Rh3,Nf4,Bxf4,exf4,Rxd8,Rxd8,Ng6,hxg6,fxg6,Bxe4', 'Rh8+,Kxh8,Qh5+,Kg8,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/5Bo1R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5BpER', 'Rapid', 'isbc', 2165, 'LernChess', 2053, 'e4,c5,Nf3,d6,c3,Nf6,e5,dxe5,Nxe5,a6,a4,Nbd7,Nf3,e5,Bc4,h6,O-O,Bd6,d3,O-O,a5,b5,axb6,Nxb6,Ba2,Bb7,Na3,Qc7,h3,Rad8,Qe2,Rfe8,Nh4,e4,dxe4,Nxe4,Nf5,Bf4,Qg4', 'Bh2+,Kh1,Nxf2+,Rxf2,Re1+,Rf1,Rxf1#', 'https://lichess.org/training/5BpER');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5btj6', 'Classical', 'daddySP', 1824, 'magisnus', 1899, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,h3,O-O,a3,a6,d3,h6,Bd2,d6,Qc1,Kh7,g4,Be6,g5,Nh5,gxh6,gxh6,Bxh6,Rg8,Bg5,Qd7,Nd5,Bxd5,Bxd5,Nd4,Nxd4,Bxd4,c3,Bb6,Qd2,c6,Ba2,Rg7,O-O-O,f6,Bh4,Nf4,Rdg1,Rxg1+,Rxg1,Qxh3,Bxf6,Bxf2,Rg7+,Kh6,Qxf2', 'Nxd3+,Kc2,Nxf2', 'https://lichess.org/training/5btj6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5btlP', 'Blitz', 'Papadakis', 1838, 'Vipin86', 1819, 'e4,e5,Nc3,c5,f4,exf4,Bc4,Qh4+,Kf1,Nf6,Nf3,Qh6,e5,Nh5,d4,d5,exd6,Bxd6,Qe2+,Kd8,dxc5', 'Ng3+,hxg3,Qxh1+,Ng1,Bxc5', 'https://lichess.org/training/5btlP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5bTrm', 'Rapid', 'Michael_Min_Vody', 2307, 'Vrban174', 2392, 'Nf3,Nf6,d4,g6,g3,Bg7,Bg2,O-O,O-O,d5,Ne5,Nbd7,f4,e6,Nd2,c5,e3,Qc7,c3,b6,Qf3,Bb7,g4,Ne4,Nxd7,Qxd7,Nxe4,dxe4,Qg3,f5,g5,Ba6,Re1,Bd3,Bd2,Qb5,b3,c4,b4,a5,a4,Qd7,b5,Kf7,Bc1,Rh8,Kf2,h6,h4,hxg5,hxg5,Rh5,Rh1,Rxh1,Bxh1,Rh8,Bg2,Qe8,Ba3,Rh5,Bd6,Qh8,Be5,Bxe5,dxe5,Rh2,Qxh2', 'Qxh2,Rh1,Qxh1,Bxh1,Bc2', 'https://lichess.org/training/5bTrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5bu5V', 'Rapid', 'Calmax', 1908, 'unidentifedwhitemale', 1829, 'e4,g6,d4,d6,c4,Bg7,Nf3,Nf6,Bd3,Bg4,Nc3,O-O,h3,Bd7,Be3,Na6,a3,c5,d5,Qc8,Qd2,Re8,Bh6,Bh8,O-O,Nc7,Rfe1,a6,e5,dxe5,Nxe5,Bf5,Na4,Bxd3,Qxd3,b5,Nb6,bxc4,Nexc4,Qb7,Nxa8,Qxa8,d6,exd6,Nxd6,Rd8,Rad1,Nb5,Bf4,Nxd6,Bxd6,Ne8,Rxe8+,Rxe8,Bxc5,Bxb2,Qd7,Bf6,Rb1,Rd8,Qg4,Qd5,Be3,Be5,Bh6,Qd3,Re1,Qxa3,Rxe5', 'Qa1+,Kh2,Qxe5+', 'https://lichess.org/training/5bu5V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5BV8u', 'Blitz', 'kamo35', 1510, 'blitzstream777', 1696, 'd4,d5,Bf4,e6,Nc3,Nf6,e3,Bd6,Qf3,c5,Nb5,Bxf4,Qxf4,O-O,Nc7,Nh5,Qe5,f6,Qxh5,Qxc7,Nf3,cxd4,Nxd4,e5,Nf5,Bxf5,Qxf5,g6,Qd3,Rd8,Be2,Nc6,O-O,Nb4,Qb3,Qxc2,Qxb4,Qxe2,Qxb7,Rab8,Qxa7,Qxb2,Rac1,Ra8,Qe7,Re8,Qxf6,Rf8,Qe6+,Kh8,Rc7,Rxa2,Qd7', 'Qxf2+,Rxf2,Ra1+,Rc1,Rxc1+,Rf1,Rcxf1#', 'https://lichess.org/training/5BV8u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5bviB', 'Blitz', 'Abusha2', 1503, 'Krechh', 1519, 'e4,b6,f4,Bb7,Nc3,e6,Nf3,Bb4,Be2,Bxc3,dxc3,Bxe4,Qd4,Nf6,Bd2,Bxc2,Bd3,Bxd3,Qxd3,d6,Qb5+,c6,Qg5,O-O,O-O-O,Ne4,Qg4,Nf2,Qh5,Qf6,Ng5,h6,Ne4,Nxe4,Qf3,Nxd2,Rxd2,d5,h4,Nd7,g4,g5,hxg5,hxg5,Rdh2,Qxf4+,Qxf4,gxf4,Rh8+,Kg7,R1h7+,Kg6,Rh6+,Kg5,Rh5+,Kxg4,Rh4+,Kf3,Rh3+,Ke4,R8h5,Rg8,Rh1,Rg2,Re1+,Kf3,Rh3+,Rg3,Rf1+,Kg4,Rh7,Rf8,Rg7+,Kh5', 'Rh1+,Rh3,Rxh3#', 'https://lichess.org/training/5bviB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5bvqY', 'Rapid', 'yogesh_bhanage', 1954, 'at-this-level', 2200, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be3,Nf6,Bd3,g6,Qf3,Bg7,Qg3,d6,O-O,O-O,Qh4,Nc6,Nxc6,bxc6,Bh6,e5,Bxg7,Kxg7,h3,Rb8,Rab1,d5,exd5,cxd5', 'Qxf6+,Kxf6,Nxd5+,Kg7,Nxc7', 'https://lichess.org/training/5bvqY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5c35X', 'Blitz', 'Guk_Evgeniy', 1906, 'qaizerhafiz', 1730, 'd3,Nf6,g3,c5,Bg2,d6,Nf3,g6,O-O,Bg7,c4,O-O,Nc3,Nc6,Bg5,Bg4,Qd2,Re8,Bh6,Bh8,e4,Qc8,Rfe1,Bh3,Bh1,Rb8,a4,a6,Nd5,Nxd5,cxd5,Nb4,Rac1,b5,axb5,Rxb5,e5,Na2,Rb1,Bf5,exd6,exd6,Rxe8+,Qxe8,Re1,Qd7,Rb1,Nb4,Ne1,Bd4,Be3,Bg7,h4,h5,Bg2,a5,Ra1,Qb7,d4,c4,f4,Nd3,Nxd3,Bxd3,Ra2,a4,Bf2,a3,Rxa3,Rxb2,Ra8+,Kh7,Qa5,Rb1+,Kh2,Rb3,Qd8,Rb2,Be3,Be4', 'Qg8+,Kh6,f5+,g5,Bxg5#', 'https://lichess.org/training/5c35X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5c6cd', 'Classical', 'medsidielhouari', 2059, 'grubisic54', 2078, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bg5,e6,Nxc6,bxc6,Qf3,Bd7,O-O-O,h6,Bf4,e5,Be3,Bg4,Qg3,Bxd1,Kxd1,Qa5,Bc4,Qb4,Bb3,Nxe4,Qf3,d5,Nxd5,cxd5,Bxd5,Nf6,Bc6+,Kd8,Bxa8,e4,Qf5,Be7,Kc1,Kc7,Bf4+,Kb6,Bd5,g6,Be3+,Ka6,Qe5,Rd8,Bb3,Ng4,Qf4,Nxe3,Qxe3', 'Bg5,Qxg5,hxg5', 'https://lichess.org/training/5c6cd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5c9rJ', 'Rapid', 'nidalino', 1748, 'smallman', 1769, 'd4,b6,e4,Bb7,Nd2,e6,b3,Qe7,Bb2,Nc6,Ngf3,O-O-O,Bb5,Nf6,O-O,h5,Qe2,Kb8,a4,Rg8,Bxc6,dxc6,Ba3,Qe8,Bxf8,Qxf8,a5,Ng4,Ne5,Nxe5,dxe5,f6,axb6,cxb6,exf6,gxf6,Nc4,c5,f4,f5,exf5', 'Rxg2+,Qxg2,Bxg2', 'https://lichess.org/training/5c9rJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5cBbQ', 'Blitz', 'mkalchev72', 1717, 'suckemybaws', 1716, 'e4,e6,d4,c6,c4,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qd8,Nf3,Nc6,Bb5,Qb6,Ne5,Ne7,Qf3,f6,Bxc6+,Nxc6,Qh5+,Ke7,Qf7+,Kd8,Ng6,hxg6,Bf4,Nxd4,O-O-O,Qc5,Rxd4+,Qxd4,Rd1,Qxd1+,Kxd1,Be7,Qxg7,Rh4,g3,Rxh2,Qxg6,Rxf2,Qd3+,Bd7,Nb5,Rc8,Nd4,e5', 'Ne6+,Ke8,Qg6#', 'https://lichess.org/training/5cBbQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5CbIx', 'Blitz', 'tabacochanel', 2372, 'FM BLC2316', 2455, 'e4,b6,d4,Bb7,Nc3,e6,Bd3,c5,d5,Nf6,Bg5,Be7,d6,Bxd6,Nb5,Be7,e5,Bxg2,exf6,gxf6,Bf4,Bxh1', 'Nc7+,Qxc7,Bxc7', 'https://lichess.org/training/5CbIx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5CbL5', 'Blitz', 'Trenbolon', 1717, 'LoIa_Mento', 1876, 'g3,d5,Bg2,c6,Nf3,Bg4,O-O,Nd7,d4,e6,c3,Bd6,Nbd2,Ne7,Nb3,O-O,Be3,f5,Qc1,h6,c4,Ng6,c5,Bc7,Bxh6,gxh6,Qxh6,Qf6,Ng5,Qg7,Qxg7+,Kxg7,Nxe6+,Kg8,Nxc7,Rac8,Ne6,Bxe2,Rfe1,Ba6,Nxf8,Kxf8,Re6,Kf7,Ree1,Nf6,Bh3,Ng4,Bxg4,fxg4,Nd2,Bd3,Re3,Bf5,Rae1,Rc7,Nb3,Kf6,Na5,Be4,Nb3,b6,Nd2,Bf5,Nb3,Nf8,cxb6,axb6,Nd2,Ne6,Nb3,Be4,Kf1,Rh7,Kg1,Ng5,Nd2,Kf5,Rc1,Rh6,Rcc3,Nh3+,Kf1,Ng5,Kg1,Ne6,Nxe4,dxe4,Rxc6,Rh7,Rxb6,Nxd4,Rb8,Nf3+,Kg2', 'Rxh2+,Kf1,Rh1+,Ke2,Re1#', 'https://lichess.org/training/5CbL5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5cC6E', 'Blitz', 'KingSleepy', 2231, 'FM Skillet115', 2359, 'Nf3,Nf6,c4,b6,g3,Bb7,Bg2,g6,O-O,Bg7,b3,O-O,Bb2,c5,d4,cxd4,Nxd4,Bxg2,Kxg2,Nc6,Nxc6,dxc6,Qc2,Qc7,Nc3,h5,Rad1,h4,Rd2,Qe5,Nd5,Qe6,Nc7,Qg4,Nxa8,Nh5,Bxg7,Nf4+,Kg1,Nh3+,Kh1,Nxf2+,Rxf2,hxg3,Rg2,Qf4,hxg3,Qf1+,Kh2,Kxg7,Rd4,g5,g4,Qe1,Rd3', 'Rh8+,Rh3,Rxh3+,Kxh3,Qh4#', 'https://lichess.org/training/5cC6E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5CCyI', 'Blitz', 'Albatros07', 1854, 'Ramim_Hasan', 1906, 'd4,e5,dxe5,Bc5,Nc3,d6,exd6,Bxd6,Nf3,Nf6,e3,O-O,Bc4,a6,O-O,b5,Bd3,Bb7,Nd4,c5,Nde2,Qc7,a4,Bxh2+,Kh1,Qc6,f3,Bg3,Nxg3,Ng4,Be4', 'Qh6+,Nh5,Qxh5+,Kg1,Qh2#', 'https://lichess.org/training/5CCyI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5cE3M', 'Rapid', 'khintoe', 1741, 'zx14', 1866, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,Be2,Nf6,Bg5,h6,Bxf6,Qxf6,c3,Bd6,Nbd2,O-O,Nf1,Bg4,Ne3,Bxf3,Bxf3,Rae8,Bxd5,Qg5,Qf3,Qh4,h3,Ne7,Be4,c6,O-O,g6,Ng4', 'f5,Bd3,fxg4', 'https://lichess.org/training/5cE3M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5cebM', 'Rapid', 'puckbarzouille', 1917, 'prasadk', 1942, 'e4,e5,Nf3,Nc6,h3,Nf6,d3,Bc5,Be2,d6,Nc3,Be6,a3,Qd7,Ng5,Nd4,Nxe6,fxe6,Be3,O-O-O,Bxd4,Bxd4,O-O,g5,Rb1,h5,Kh2,g4,h4,Rdg8,g3,d5,exd5,Nxd5,Nxd5,Qxd5,c3,Bb6,b4,Rf8,c4,Qd4,c5,Rxf2+,Kh1,Qe3,Rxf2,Qxf2,cxb6,axb6,Qe1,Qe3,Bf1,Qf3+,Kh2,Rf8,Qe2', 'Qxe2+,Bxe2,Rf2+,Kg1,Rxe2', 'https://lichess.org/training/5cebM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5CFPm', 'Rapid', 'Iqbal_Momin', 1978, 'Bagodo', 1839, 'e3,d5,c3,e5,d4,e4,c4,c6,Nc3,Bb4,Bd2,Nf6,Nxe4,Bxd2+,Nxd2,O-O,cxd5,Qxd5,Ngf3,Bg4,Be2,Re8,O-O,Nbd7,h3,Bf5,Bc4,Qd6,Qb3,Be6,Bxe6,Rxe6,Nc4,Qc7,Rab1,b5,Ncd2,h6,Rfc1,g5,Qxb5,g4,Nh4,gxh3,g3,Rxe3,Qxc6,Qxc6,Rxc6,Re2,Ndf3,Ne4,Re1,Rxe1+,Nxe1,Ndf6,f3,Nxg3,Rxf6,Re8,Nd3,Re2,Nf4', 'h2#', 'https://lichess.org/training/5CFPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Cg1W', 'Rapid', 'ToadandToady', 1911, 'carboveg', 1917, 'Nf3,d5,g3,f5,Bg2,Nf6,O-O,e6,d4,Bd6,c4,c6,Nc3,Nbd7,cxd5,exd5,Bf4,Bxf4,gxf4,Ne4,Nxe4,fxe4,Ne5,Nxe5,fxe5,O-O,f3,exf3,exf3,Bf5,f4,Qb6,Qd2,Rae8,Rf3,Re6,Bh3,Rg6+,Kf2,Be4,Rg3,Rh6,Bg2,Rxh2,Rg1,c5,Ke1,cxd4,Bxe4,Rxd2', 'Rxg7+,Kh8,Rxh7#', 'https://lichess.org/training/5Cg1W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Cjro', 'Rapid', 'ASahrori_prcsikabcrb', 2207, 'spaceisgreat', 2163, 'd4,Nc6,d5,Ne5,e4,Ng6,Bd3,e5,Nf3,Bc5,O-O,Nf6,Bg5,d6,c3,a5,Qa4+,Kf8,b4,Bd7,Qb3,axb4,cxb4,Bb6,a4,Bg4,Nbd2,h6,Be3,Bxe3,fxe3,Qd7,Bb5,Qc8,Be2,h5,Rac1,Bd7,b5,h4,Rc3,Qd8,Rfc1,Rc8,a5,h3,g3,b6,a6,Ne8,a7,Ra8,Ra1,Ne7,Nc4,Nc8,Ra6,Rxa7,Nxb6,Rxa6', 'Nxd7+,Qxd7,bxa6', 'https://lichess.org/training/5Cjro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5CjuF', 'Rapid', 'maki_7', 1842, 'hqkhnk10', 1808, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bc4,a6,a4,Be6,Bxe6,fxe6,Nxe6,Qd7,Nd5,Nxe4,Nec7+,Kd8,Nxa8,Qf5,Nf4,e5,O-O,exf4,Qf3,Nd4,Qxf4', 'Ne2+,Kh1,Nxf4', 'https://lichess.org/training/5CjuF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5CJyv', 'Rapid', 'Ecueil', 2105, 'Legioner-9', 2132, 'Nf3,c5,g3,d5,Bg2,Nc6,d3,e5,O-O,Bd6,Nbd2,Nge7,c4,O-O,cxd5,Nxd5,Ne4,Be7,Bd2,f5,Nc3,Be6,Qa4,f4,Rac1,fxg3,hxg3,Nd4,Nxe5', 'Nxc3,Bxc3,Nxe2+', 'https://lichess.org/training/5CJyv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5cjzO', 'Rapid', 'WETERAN', 1635, 'LewAlcindor', 1904, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nxc6,Qxe4+,Qe2,Qxe2+,Bxe2,dxc6,Nc3,Nf6,O-O,Be7,f3,O-O,Bf4,Bd6,Bxd6,cxd6,Bd3,Re8,Ne4,Nxe4,fxe4,Be6,b3,Rad8,c4,f6,Rf4,d5,exd5,cxd5,c5,Bf7,Bb5,Re4,Rxe4,dxe4,Re1,f5,a4,Bxb3,h4,Rd1,Rxd1,Bxd1,Kf2,a6,Bd7,g6,a5,Kf7,Bc8,Ba4,Bxb7,Bb5', 'c6,Bxc6,Bxc6', 'https://lichess.org/training/5cjzO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5coG9', 'Classical', 'Injuriosumm', 2009, 'M0r1', 1969, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,Bg5,c6,Ne2,h6,Bh4,Bd6,f4,Qb6+,Bf2,Bc5,h3,Bxf2+,Rxf2,Qxb2,Rb1,Qxa2,Nd4,Qa4,Ra1,Qb4,Nxc6,Qc5,Ne5,Nd7,Ng4,Nb6,f5,Qd4,f6,Bxg4', 'Bh7+,Kxh7,Qxd4', 'https://lichess.org/training/5coG9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5CPWz', 'Blitz', 'PomaG12', 1961, 'Olsen_Banden', 1861, 'e4,c5,Nf3,e6,c3,d5,Bb5+,Nc6,exd5,Qxd5,d4,Nf6,O-O,Be7,dxc5,Bxc5,Qxd5,Nxd5,c4,Nb4,Bxc6+,bxc6,a3,Nc2,Ra2,Nd4,Nxd4,Bxd4,b4,a5,Rd2,e5,Re1,O-O,Bb2,axb4,Bxd4,exd4,axb4,Ra4,Rb2,Be6,c5,Rfa8,f3,Rb8,b5,cxb5,Rc1,Rc4,Rxc4,Bxc4,Nd2,Rc8,Ne4,Kf8,Kf2,Rc6,Nd6,Ke7,Nxb5,Rxc5,Nxd4,g6,Rb7+,Kf6,g4,h6,f4,Ra5,Rb6+,Kg7,Nc6,Ra2+,Kg3,Bf1,h3,Rg2+,Kh4,Rh2,g5', 'Rxh3+,Kg4,h5#', 'https://lichess.org/training/5CPWz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5cR1D', 'Classical', 'bhorvat', 2016, 'el_perro_orfeo', 1977, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Bc4,Bg7,Be3,Nf6,Nxc6,bxc6,Nd2,O-O,c3,Nxe4,Nxe4,d5,Bxd5,cxd5,Ng3,Ba6,Ne2,Rb8,Bc1,e5,O-O,f5,Re1,f4,f3,Rf5,Qa4,Qb6+,Kh1,Qf2,Qxa6,Qxe1+,Ng1,e4,Qe6+,Kh8,Bxf4,Qxa1,Bxb8,exf3,gxf3,Qxb2,Bd6,Qxc3', 'Qe8+,Bf8,Bxf8', 'https://lichess.org/training/5cR1D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5cVmu', 'Rapid', 'Omar-Alzain', 2043, 'Amilcar_Rivera', 2034, 'e4,c5,Nf3,e6,c3,d5,e5,d4,cxd4,cxd4,d3,Ne7,Be2,Nbc6,Nbd2,Ng6,Nc4,b5,Bg5,f6,exf6,gxf6,O-O,fxg5,Ncd2,Bg7,Ne4,h6,Qb3,Bb7', 'Qxe6+,Nce7,Nd6+,Qxd6,Qxd6', 'https://lichess.org/training/5cVmu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5CzAj', 'Classical', 'PokemonTmo09', 1810, 'seanchan2k', 1819, 'e4,Nc6,Nf3,Nf6,Nc3,e5,Bc4,Bb4,a3,Bxc3,bxc3,Nxe4,O-O,O-O,Re1,Nd6,Ba2,Re8,d3,Kh8,Ng5,Qf6,d4,h6,dxe5,Nxe5,Nh3,Ng6,Rxe8+,Nxe8,Bb2,Nd6,Rb1,b6,c4,Qe6,c5,Qxa2,cxd6,c5,Qc1,Bb7,Ra1,Qd5', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/5CzAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5CzDU', 'Classical', 'mstef0', 1865, 'Ali_16', 2007, 'c4,Nf6,g3,e6,Bg2,d5,d4,Be7,Nc3,b6,Nf3,O-O,cxd5,exd5,O-O,h6,Bf4,Nh5,Bc1,Bb7,a3,Nd7,b4,a5,Bb2,axb4,axb4,Bxb4,Ne5,Nhf6,Qb3,Bxc3,Qxc3,Nxe5,dxe5,Ne4,Bxe4,dxe4,e6,f6,Rad1,Qb8,Qc4,Kh8,Rd7,Bc8,Rxc7,Bxe6,Qc6,Rc8,Rxc8+,Qxc8,Qxe4,Bh3,Rc1,Qe8,Qc4,Rc8,Qd3', 'Rxc1+,Bxc1,Qc6,f3,Qxc1+', 'https://lichess.org/training/5CzDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5d4Zl', 'Rapid', 'iduncan2', 1704, 'kdirieb', 1777, 'd4,d5,Nf3,Nf6,Nc3,Bf5,Bf4,e6,a3,c5,e3,Nc6,Bb5,c4,Ne5,Qb6,Nxc6,bxc6,Ba4,Rc8,O-O,Qxb2,Ne2,Qb7,Rb1,Qd7,Rb8,Be7,Rxc8+,Qxc8,Be5,O-O,Nf4,Ne4,Qe1,Qa6,Bxc6,Qxc6,Qa5,Bd6,Bxd6,Nxd6,Rb1,g6,Qxa7,Bxc2,Rb8,Rxb8,Qxb8+,Kg7,h4,Bf5,h5,g5', 'h6+,Kf6,Qd8#', 'https://lichess.org/training/5d4Zl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5d59t', 'Blitz', 'Gouda76', 1859, 'mbrenha', 1921, 'd4,d5,c4,e6,cxd5,Qxd5,Nc3,Bb4,Bd2,Qxd4,Nb5,Bxd2+,Qxd2,Qxd2+,Kxd2,Na6,e4,c6,Nc3,Nc7,f3,Nf6,Bc4,O-O,Nge2,b5,Bb3,a6,a3,c5,Bc2,c4,Ke3,Bb7,Rad1,Rad8,Rxd8,Rxd8,Rd1,Rxd1,Bxd1,g6,Nd4,Nd7,f4,Nc5,e5,Bxg2,Bf3,Bxf3,Kxf3,Nd3,Nd1,a5,b3,cxb3,Nxb3,b4,a4,Nd5,Nxa5,Nc1,Nc4,b3,a5,Nb4,Ndb2,Kf8,Nd6,Ke7,Ke4,f5+,Kd4,Kd7,Kc4,Nba2,a6,Kc7,Kb5,Nc3+,Ka5,Nd5,Nbc4,Kb8,Nb5,Nd3,a7+,Ka8', 'Nb6+,Nxb6,Kxb6,b2,Nc7#', 'https://lichess.org/training/5d59t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5D6Iu', 'Rapid', 'PlagueEnthusiast', 1759, 'Norbertking007', 1764, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,c6,Be3,h6,Bd3,Nd7,Qd2,Ngf6,O-O-O,a5,a4,Rb8,e5,dxe5,dxe5,Nd5,Nxd5,cxd5,e6,Nc5,exf7+,Kf8,Bxg6,Nxa4,Qxd5', 'Bxb2+,Kb1,Nc3+,Kxb2,Nxd5', 'https://lichess.org/training/5D6Iu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5D6Qw', 'Rapid', 'alpogan111', 1827, 'FuadAs', 1874, 'e3,c6,d4,d5,g3,e6,Bg2,Bd6,Nd2,Qc7,c4,Nf6,c5,Be7,b4,b6,a4,Nbd7,a5,bxa5,bxa5,Ba6,Ne2,Rb8,O-O,Rb5,Nb3,Rxb3,Qxb3,Bxe2,Re1,Bb5,Bd2,Ne4,Bxe4,dxe4,Qc2,Bd3,Qc3,Nf6,f3,h5,fxe4,Bxe4,Re2,h4,Be1,hxg3,Bxg3,Qxg3+,hxg3', 'Rh1+,Kf2,Ng4#', 'https://lichess.org/training/5D6Qw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5d7de', 'Rapid', 'Bujo', 1800, 'Constantyn', 2041, 'e4,c5,c3,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,Bg5,Be7,O-O,O-O,Bxf6,Nxf6,dxc5,Bxc5,b4,Bb6,h3,Rc8,Qc2,Qc7,a4,a5,bxa5,Bxa5,Ra3,Rfe8,Rc1,Ne4,c4,dxc4,Re3,f5,Na3,Bb6,Re2,Qf4,Nxc4,Ba7,Rb1,Nxf2,Rxf2,Rxc4,Qb3,Re2,Rf1,Qc7,Qd3,Rcc2,Ng5,Rxf2,Qd5+,Kh8,Nf7+,Qxf7,Qxf7', 'Rxg2+,Kh1,Rh2#', 'https://lichess.org/training/5d7de');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5dCc3', 'Classical', 'jvp94', 1681, 'nareck0', 1653, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Bg5,Be7,Nc3,O-O,Nd5', 'Nxd5,Qxd5,Bxg5,Nxg5,Qxg5', 'https://lichess.org/training/5dCc3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5DCX0', 'Rapid', 'rachfan', 1881, 'DedaBoba', 1866, 'e4,b6,d4,Bb7,Nc3,e6,Bd3,Bb4,Bd2,Nc6,Nf3,Nf6,e5,Nd5,Nxd5,Bxd2+,Qxd2,exd5,Ng5,h6,Nh3,O-O,Nf4,a6,c3,d6,Nxd5,dxe5,dxe5,Nxe5,Be4,Rb8,O-O-O,Re8,f4,Nc4,Qd4,b5,Bf3,Qd6,Rhe1,Rxe1,Rxe1,c5,Qd3,Bc6', 'Ne7+,Kf8,Qxd6', 'https://lichess.org/training/5DCX0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5dD5P', 'Rapid', 'tax654', 2043, 'borsoka0628', 1852, 'd4,Nf6,e3,g6,Bd3,Bg7,Nf3,O-O,O-O,d5,c3,b6,Ne5,Nbd7,f4,Nxe5,fxe5,Ng4,h3,Nh6,e4,Bb7,exd5,Qxd5,Rf2,Kh8,Nd2,Qd7,Ne4,Rad8,Bxh6,Bxh6,Qe2,c5,Rd1,cxd4,cxd4,Qxd4,Bc2,Qxe5,Rxd8,Rxd8,Rxf7,Rd2,Qf3,Rd8,Qc3,Qxc3,Nxc3,Rd2,Be4,Bxe4,Nxe4,Rxb2,Rxe7,Rxa2,Nf6,Bg5', 'Rxh7#', 'https://lichess.org/training/5dD5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ddQs', 'Rapid', 'Alleina', 1688, 'icesoul90', 1685, 'e4,e5,Nc3,Nf6,Nf3,Bc5,d4,exd4,Nxd4,O-O,Be3,Bb4,Bd3,Nc6,O-O,a6,Nce2,Nxd4,Nxd4,Bc5,c3,Bb6,Qf3,d6,Qg3,Bd7,Qh4,Ne8,Qg3,Qf6,Nf3,Bxe3,fxe3,Qe7,Ng5,Nf6,Nh3,h6,Nf4,b5,Nd5,Nxd5,exd5,Rae8,e4,c5,Rf4,c4,Bc2,Qg5,Qf2,Re5,Rf1,Qe7,Rh4,f6,Qg3,Rg5,Qf4,Qe5,Qf2,Rg4,Rxg4,Bxg4,Qh4,Be2,Rf5,Qe7,Rf2,Bd3,Qf4,Qxe4', 'Qxe4,Bxe4,Bxe4', 'https://lichess.org/training/5ddQs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5DfF1', 'Rapid', 'apollo017', 1955, 'Alexander_Kiselev', 1994, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Bb4,e5,Qe7,f4,Ne4,Bd2', 'Qh4+,g3,Nxg3', 'https://lichess.org/training/5DfF1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5dkeg', 'Rapid', 'abdallah133', 2043, 'danetneznay', 1697, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,Be6,Bg5,Nbd7,cxd5,Bg4,f3,Bh5,Bb5,Be7,Nge2,Nxd5,Bxe7,Nxc3,Bxd8,Nxd1,Rxd1,Rxd8,O-O,O-O,Bd3,h6,Nf4,Nf6,g4,Rxd4,Bh7+,Kxh7,Rxd4,Bg6,Nxg6,Kxg6,h3,c6,Re1,a5,Re7,Rb8,Rd6,Kg5,Rxf7,Kh4,Rxg7,Kg3,Kf1,Nd5,Re6,Rd8,Ke2,Nf4+,Ke3,Nxe6,Rxb7,Ng5,f4,Nxh3,f5,Kxg4,f6,Rf8,f7,Ng5,Rc7,h5,Rxc6,Rxf7,Rc5,h4,Rxa5,Rf3+,Ke2,h3', 'Rxg5+,Kxg5,Kxf3', 'https://lichess.org/training/5dkeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5dOZp', 'Rapid', 'butilikefur', 2394, 'follett', 2100, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,Bd5,Rb8,Bxc6,dxc6,Nxe5,Bb7,O-O,c5,Ng4,O-O,Nc3,Qd7,Ne3,b4,Ne2,Rbd8,b3,Rfe8,Bb2,Qc6,Ng3,g6,Qf3,Nd7,Ng4,Bf8,Qf4,Bg7,Nh6+,Bxh6,Qxh6,f6,f4,Qe6,f5,Qf7,Rf4,g5,Rg4,Qg7,Rxg5', 'Qxg5,Qxg5+,fxg5', 'https://lichess.org/training/5dOZp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5dPLh', 'Blitz', 'Fefish18_BKD', 2290, 'IM Kildepiotr', 2433, 'd4,c5,Nf3,cxd4,Nxd4,d5,Nf3,Nc6,e3,Nf6,h3,e5,Bb5,Bd6,Bxc6+,bxc6,c4,Ba6,Qa4,Qb6,cxd5,Bb5,Qb3,cxd5,a4,Bc4,Qxb6,axb6,Nbd2,Bd3,b3,Ke7,Bb2,Nd7,Ba3,Bxa3,Rxa3,Rhc8,Ra1,Rc2,Kd1,Rc3,Ne1,Bg6,Rc1,Rac8,Rxc3,Rxc3,Rf1,Nc5,Nef3,f6,Ke2,Nxb3,Nxb3,Rxb3,Rc1,Kd7,Nd2,Bd3+,Kf3,Rb4,Ra1,g5,a5,bxa5,Rxa5,h5', 'Rxd5+,Ke7,Rxd3', 'https://lichess.org/training/5dPLh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5DSnp', 'Blitz', 'misumatto', 1836, 'llrobinhoodll', 1742, 'e4,Nc6,d4,d5,Nc3,e6,Nf3,dxe4,Nxe4,a6,c3,Nge7,Bd3,e5,dxe5,Bg4,Bf4,Ng6,Bg3,Ngxe5,Be2,Bxf3,Bxf3,Bd6,O-O,O-O,Qb3,Nxf3+,gxf3,b5,Rad1,Na5,Qc2,Nc4,b3,f5,Nc5,Nb6,Ne6,Qg5,Nxf8,Bxg3,fxg3,Rxf8,f4,Qg4,c4,c6,c5,Nd5,Rfe1,Nxf4,Kh1', 'Qf3+,Kg1,Nh3#', 'https://lichess.org/training/5DSnp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5dsp8', 'Rapid', 'lyrapan', 1606, 'aagv', 1605, 'd4,d5,c4,c6,Nc3,e6,Nf3,a5,a3,b6,Bg5,Be7,Bxe7,Nxe7,e4,dxe4,Nxe4,Ng6,Be2,O-O,Qd2,Nd7,Nd6,Nf6,c5,bxc5,dxc5,Ne8,Ne4,Nf6,Nd6,Ne8,Nc4,Qc7,g3,Nf6,Nd6,Qa7,Rc1,Nd5,Nd4,Qc7,h4,Ba6,Bf3,Nge7,b4,axb4,axb4,Nc8,b5,Nxd6,bxa6,Nb5,Nxb5,cxb5,Ra1', 'Qe5+,Kf1,Qxa1+', 'https://lichess.org/training/5dsp8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5DtgE', 'Rapid', 'omertil', 1855, 'sajibshekh321', 1830, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,e6,Nf3,Nc6,O-O,Nf6,Re1,Be7,b3,Na5,Bd3,O-O,Bb2,b6,Ne4,Bb7,c4,c5,Bc2,Nc6,Ng3,Nd4,Nxd4,cxd4,Ne4,Nxe4,Bxe4,Bxe4,Rxe4,Bf6,Qg4,e5,d3,Qc7,Rf1,Be7,f4', 'f5,Qe2,fxe4', 'https://lichess.org/training/5DtgE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5DVc7', 'Rapid', 'halheinrich', 1923, 'Benji3359', 1973, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,Bd6,Nf3,Qe7,c4,dxc4,bxc4,Bd7,O-O,e4,Bxc6,Bxc6,Nd4,Bd7,Nc3,Nf6,h3,O-O,Qc2,Qe5,g3,Bxh3,Rfe1,h5,Nde2,h4,Nb5,Qf5,Nxd6,Qf3,Nf4,hxg3,fxg3,Qxg3+,Kh1,cxd6,Bxf6,gxf6', 'Rg1,Bg2+,Rxg2', 'https://lichess.org/training/5DVc7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5dxqe', 'Blitz', 'Ascan13', 1690, 'titobatista', 1690, 'e4,e5,Bc4,Nc6,c3,d6,a4,Be7,a5,a6,Qb3,Nh6,d3,O-O,Bxh6,gxh6,Nf3,Bg4,Nbd2,Bg5,h3,Bxf3,Nxf3,Qc8,h4,Bf4,g3,Bxg3,fxg3,Qg4,Rf1,Qxg3+,Ke2,Qg2+,Rf2,Qh3,Rg1+,Kh8,Rfg2,f5,exf5,Qxf5,Rg8+,Rxg8,Rxg8+,Rxg8,Bxg8,Nxa5,Qd5,Nc6,Be6,Qg6,Bc8,Qg2+,Ke3,Qxb2,Qe6,Qc1+,Ke4,Qf4+,Kd5,Qxf3+,Kc4,b5+,Kb3,Qd1+,Kb2,Qd2+,Kb1,Qxd3+,Kb2,Qd2+,Kb1,Qd3+,Kb2,Na5', 'Qf6+,Kg8,Be6#', 'https://lichess.org/training/5dxqe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Dybv', 'Rapid', 'jprata', 1775, 'Payne04', 2168, 'e4,d5,e5,e6,f4,f6,Nf3,Bd7,Be2,Ne7,d4,Ng6,O-O,c5,c3,Nc6,Be3,cxd4,cxd4,fxe5,fxe5,Be7,Nfd2,Nh4,Nc3,Qb6,Nb3,Nxe5,a4,a5,Nb5,Nf5,Bf2,Nc4,Bxc4,dxc4,d5,Qd8,Nc5,exd5,Qxd5,Bxb5,Qxf5,Bd7,Nxd7,Qxd7,Qf4,Qd6,Qxc4,Qc6,Qf4,Rf8,Qg4,g6,Bg3,Rd8,Rxf8+,Kxf8,Rf1+,Ke8,Re1,Rd7,Qf4,Qd6', 'Qxd6,Rxd6,Bxd6', 'https://lichess.org/training/5Dybv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5EbNM', 'Rapid', 'haldoyosimar', 1757, 'oocool', 1865, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Nc3,b6,Bb5,Bc5,Qg3,O-O,Bd2,Re8,f3,Nd4,O-O-O,c6,Bc4,b5,Bd3,b4,Nce2,b3,axb3,Qb6,Nxd4,Bxd4,Bc3,Be3+,Kb1,a5,e5,Nd5,Qh4,h6,Ne2,a4,Qe4,g6,g3,d6,f4,Bf5,Qf3,axb3,Bxf5,Qa7,cxb3,Qa1+,Kc2,Qa2,Nd4,dxe5,fxe5,Rxe5,Bxg6,Rf8,Bd3,Nxc3,Qg4+', 'Rg5,Ra1,Rxg4', 'https://lichess.org/training/5EbNM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5EDdY', 'Blitz', 'Harry_Rakel', 2599, 'IM MerVit', 2315, 'Nf3,Nf6,g3,c5,Bg2,g6,O-O,Bg7,c4,O-O,b3,d5,cxd5,Nxd5,Nc3,Nxc3,dxc3,Bxc3,Bh6,Bxa1,Qxa1,f6,Rd1,Qe8,Bxf8,Qxf8,Qc3,Nc6,e3,Bg4', 'Qc4+,Kg7,Qxg4', 'https://lichess.org/training/5EDdY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Edp0', 'Classical', 'btaks', 1836, 'Roman_RS', 1811, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Bg4,Be2,O-O,O-O,Nbd7,Re1,c5,d5,Nb6,b3,Nxe4,Nxe4,Bxa1,Bh6,Bg7,Bxg7,Kxg7,Qa1+,f6,h3,Bf5,Neg5,h6,Ne6+,Bxe6,dxe6,d5,cxd5,Qxd5,Bf1,Rfd8,Qc3,Rdc8,Bd3,c4,bxc4,Nxc4,Be4,Qa5,Qd3,Nd6,Bxg6,f5,Bh5,Qxa2,Ne5,Qxe6', 'Qg3+,Kh7,Bg6+,Kh8,Nf7+,Qxf7,Bxf7', 'https://lichess.org/training/5Edp0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5eDQb', 'Blitz', 'MortezaGh', 1655, 'SerGiuseppe', 1596, 'e3,d5,c4,c6,cxd5,cxd5,h3,Nf6,g4,h6,Bg2,Nc6,a3,e5,b4,a6,Bb2,d4,Qb3,Be6,Qc2,Bd5,Nf3,e4,Nxd4,Nxd4,Bxd4,Rc8,Qa4+,b5,Qxa6', 'Rc1+,Ke2,Bc4+,d3,Bxd3+,Kd2,Rc2+', 'https://lichess.org/training/5eDQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5edUP', 'Classical', 'arqueiro11', 2002, 'chainsaw101', 2090, 'e4,c5,a3,d6,Nf3,Nf6,Nc3,e6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,O-O,a6,Bxc6,bxc6,f4,Be7,e5,Nd5,Ne4,dxe5,fxe5,Qc7,Nf3,O-O,c4,Nb6,c5,Nd5,Nd6,Rab8,Ng5,f6,exf6,Nxf6,Re1,Bxd6,Qxd6,Qxd6,cxd6,Rb5,Nf3,Rd5,Bf4,Ne8,Bg5', 'Rxf3,gxf3,Rxg5+', 'https://lichess.org/training/5edUP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5eE53', 'Blitz', 'TahaPharmacy', 1779, 'ripi22', 1847, 'c4,e5,Nc3,f5,Nf3,Nf6,e3,d6,g3,Be6,b3,Qe7,d4,e4,Nd2,Nbd7,Bb2,h5,Nb5,O-O-O,Nxa7+,Kb8,Nb5,h4,Bg2,hxg3,hxg3,Rxh1+,Bxh1,Ng4,Qe2,Qg5,f3,Ngf6,Qf2,Nh5,fxe4,Nxg3,Bf3,fxe4,Nxe4,Nxe4,Bxe4,Bg4,d5,Re8,Bd4,g6,a4,Bh6,a5,Rxe4,a6,bxa6,Rxa6,Nc5,Ra8+,Kxa8', 'Qa2+,Na4,Qxa4+,Kb7,Qa7+,Kc8,Qxc7#', 'https://lichess.org/training/5eE53');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5eemw', 'Rapid', 'heinr', 1731, 'nerepla', 1647, 'd4,d5,Nf3,Nf6,e3,g6,c4,c6,Nc3,Bg7,Bd3,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Bg4,Be3,Qa5+,Bd2,Qb6,Bc3,Rd8,c5,Qc7,O-O,e5,h3,exd4,Bd2,Bxf3,Bxf3,Nd7,Qa4,Nxc5,Qc4,Ne6,Bg4,Kh8,Bxe6,fxe6,Qxe6,Re8,Qg4,d3,Rab1,Re2,Rbd1,Bxb2,Bf4,Re4', 'Bxc7,Rxg4,hxg4', 'https://lichess.org/training/5eemw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5eHYF', 'Rapid', 'joreveg', 1900, 'KingMeTaco666', 1902, 'e4,e5,c3,Nc6,Bb5,Nf6,Qc2,Bc5,Nf3,d6,Bxc6+,bxc6,h3,Ba6,d4,exd4,cxd4,Bb6,Qxc6+,Nd7,e5,dxe5,Nxe5,O-O,Nxd7,Re8+,Be3,Qg5,Nxb6,Rxe3+,fxe3,Qxe3+,Kd1,Be2+,Kc2,Bd3+,Kb3,Bf5+,Qc3,Be6+,Nc4,Rb8+,Ka4,Qg5,Nbd2,Qb5+,Ka3,c5,Nd6', 'Qa6+,Qa5,Qxa5#', 'https://lichess.org/training/5eHYF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5eI1X', 'Rapid', 'JoaoRecife', 1942, 'tulip16', 1969, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,O-O,Qc2,d5,cxd5,exd5,Bg5,h6,Bh4,Re8,e3,c5,Bb5,Nc6,O-O,cxd4,Nxd4,Nxd4,exd4,Re6,Rfe1,Bxc3,bxc3,Bd7,Bxd7,Qxd7,f3,Rae8,Bxf6,Rxe1+,Rxe1,Rxe1+,Kf2,Re6,Be5,f6,Bf4,Qb5,Qf5,Qe2+,Kg3,Kf7,Qxd5,g5,Bd6,h5,Bb4,Kg6,Qxb7,f5,Bf8,f4+,Kh3', 'g4+,Kh4,Qf2+,g3,Qxh2#', 'https://lichess.org/training/5eI1X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5EJo5', 'Rapid', 'CYLN2011', 1749, 'BlueApple44', 1801, 'e4,e5,Nf3,Nf6,Bc4,Be7,O-O,d6,Ng5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,d4,Kg8,f4,Nxe4,dxe5,d5,c3,Bf5,Nd2,Bc5+,Kh1,Nf2+,Rxf2,Bxf2,Nf3,c6,Nd4,Be4,f5,Bxd4,Qxd4,Bxf5,Bd2,Qe7,Re1,Nd7,c4,dxc4,Qxc4+,Kh8,e6,Nb6,Qb3,Re8,Bb4,Qf6,e7,Nd5,Qa3,Nxb4,Qxb4,Bg6,Qxb7,a6,Qxa6,Rxe7,Qa8+,Be8', 'Qxe8+,Rxe8,Rxe8+,Qf8,Rxf8#', 'https://lichess.org/training/5EJo5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5eJOm', 'Rapid', 'gghchess', 1785, 'Vincenz-Grimm', 1913, 'e4,b6,d4,Bb7,Nc3,e6,a3,c6,Bd3,d6,Nf3,Qc7,O-O,Nd7,Bf4,Ne7,Re1,Ng6,Bg3,h5,h4,Be7,d5,O-O-O,dxc6,Bxc6,a4,Nc5,a5,Nxd3,Qxd3,Ne5,Nxe5,dxe5,Qc4,Rd4,axb6,Qxb6,Qa6+,Bb7,Qxb6,axb6,Bxe5,Rd2,Na4,Bc5,Nxc5,bxc5,Bxg7,Rg8,Bc3,Rxc2,Rac1,Rxc1,Rxc1,Bxe4,g3,Bd5,Be5,Rg4,Rxc5+,Kd8,Bf6+,Kd7,Rb5,Re4,f3,Re3,Kg2,Rxf3', 'Rxd5+,exd5,Kxf3', 'https://lichess.org/training/5eJOm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ejRP', 'Rapid', 'pedritopedro', 1668, 'neveroyatno', 1611, 'e4,e5,Nf3,Nc6,d4,d5,exd5,Qxd5,Nc3,Bb4,Bd2,Bxc3,Bxc3,f6,dxe5,Qe4+,Qe2,Qxe2+,Bxe2,Bf5,O-O-O,Nge7,exf6,gxf6,Bxf6,Rf8,Bxe7,Kxe7,Rhe1,Kf6,Bd3,Bg4,Be4,h5,h3,Bxf3,Bxf3,Ne5,Bxh5,Kg5,Bf3,Nxf3,gxf3,Rxf3,Rg1+,Kh4,Rd4+,Kxh3,Rd7,Kh2,Rg5,Rh8,Rxc7,Rxf2,Rxb7,Rf1+,Kd2,Rd8+,Kc3,Rf3+,Kb4,Rd2,Rh7+,Rh3,Rxh3+,Kxh3,Kc3,Re2,Rd5,Kg4,Kd3,Re7,c4,Kf4,c5,Re3+,Kc4,Ke4,Rd4+,Ke5,Rd5+,Ke6,Rd3,Re4+,Rd4,Re2,b4,Rxa2,Kb5,Ke5,Rd7,Ke6,Rh7,Kd5,Rd7+,Ke6,Rd8,Ke7,Rb8,Kd7,Rb7+,Kc8,Kc6', 'Ra6+,Rb6,axb6', 'https://lichess.org/training/5ejRP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5eJt1', 'Blitz', 'knightlock', 1707, 'RAHUL567', 1621, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be3,Bd7,f3,Nc6,Qd2,h6,O-O-O,Be7,Be2,Qc7,Ndb5,Qa5,Nxd6+,Kf8,Bb5,Rb8,g4,Nb4,Nc4', 'Nxa2+,Nxa2,Qxa2,Qa5,Qxa5,Nxa5,Bxb5', 'https://lichess.org/training/5eJt1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5eJZz', 'Rapid', 'RoRux', 1780, 'schura', 1871, 'Nf3,d5,g3,Nf6,Bg2,Nc6,O-O,e5,d3,h6,Nbd2,Be7,e4,dxe4,dxe4,O-O,Re1,Bg4,h3,Bh5,g4,Bg6,Nh4,Nxe4,Nxg6,Nxf2,Nxe7+,Qxe7,Kxf2,Qc5+,Kf1,f5,gxf5,Rxf5+,Nf3,Nd4,c3,Nxf3,Bxf3,Raf8,Re3,e4,Qd4,Rxf3+,Rxf3,Rxf3+,Ke2,Qf5,Be3,Rxh3,Rg1,Qf3+,Ke1', 'Qxe3+,Qxe3,Rxe3+', 'https://lichess.org/training/5eJZz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5EKrX', 'Rapid', 'Guan_Yu', 1795, 'Ernestoal', 1930, 'd4,Nf6,Bg5,d6,Bxf6,exf6,e4,g6,d5,Bg7,c3,O-O,Ne2,f5,exf5,Bxf5,Ng3,Re8+,Be2,Bg4,O-O,Bxe2,Nxe2,Nd7,Nf4,Ne5,Nd2,Qh4,Nh3,Nd3,Nf3,Qe4,Nhg5,Qf5,Qd2,Ne5,Nxe5,Bxe5,Nf3,Bf4,Qd4,Re4,Nh4,Bxh2+,Kxh2,Qf4+,g3,Rxd4,gxf4,Rxf4,Kg3,Ra4,b3,Re4,f3,Re3,c4,Rae8,Ng2,Re2,Nf4,Rb2,Rg1,g5,Nh5,Ree2,Nf6+,Kg7,Ne4,h6,Nc3,Rh2,Ne4', 'f5,Nxg5,hxg5', 'https://lichess.org/training/5EKrX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ePw8', 'Rapid', 'adel1987m', 1643, 'liuksas', 1602, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Nge2,Bg4,d4,Bxe2,Bxe2,Qa5,Bd2,Qb6,Bc1,c6,O-O,Nf6,f4,e6,b3,Be7,Bf3,O-O,Ne4,Nbd7,Be3,Qd8,c4,h6,Ng3,a5,f5,exf5,Nxf5,Bb4,d5,cxd5,Bxd5,Nxd5,cxd5,Nf6,h3,Nxd5,Bxh6,Bc3,Qg4,Bxa1,Nxg7,Nf6,Qg3,Ne4,Qg4,Qb6+,Kh2,Qxh6,Nf5+,Qg6', 'Ne7+,Kg7,Nxg6', 'https://lichess.org/training/5ePw8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ErDi', 'Rapid', 'ssssssssss29012901', 1845, 'gaby85', 1809, 'd4,d6,e4,Nf6,Nc3,g6,Be3,Bg7,Qd2,O-O,f3,Be6,Bh6,c5,d5,Bd7,h4,Re8,h5,Nxh5,g4,Nf6,Bxg7,Kxg7,Qh6+,Kg8,e5,dxe5,Ne4,e6,g5,Nxd5,Qxh7+,Kf8,Qh8+,Ke7', 'Qf6+,Nxf6,gxf6+,Kf8,Rh8#', 'https://lichess.org/training/5ErDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ErRx', 'Classical', 'TheBigMango', 1922, 'Alex_Kolesnikov', 2034, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Bc4,Be7,Qf3,O-O,Bb3,Nc6,O-O-O,Na5,e5,Nd7,Bxe7,Qxe7,exd6,Qxd6,Nxe6', 'Nxb3+,axb3,Qxe6', 'https://lichess.org/training/5ErRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5eWhI', 'Rapid', 'tomtom123', 1694, 'bickle', 1940, 'e4,e6,Bc4,c6,Qf3,d5,exd5,cxd5,Bb3,Nc6,c3,Nf6,d4,Bd6,h3,O-O,Ne2,Bd7,Be3,Ne4,Nd2,f5,O-O-O,a5,Bf4,Be7,a4,Qc8,g4,fxg4,hxg4,Nxd2,Rxd2,Bg5,Qh3,Bxf4', 'Qxh7+,Kf7,Nxf4', 'https://lichess.org/training/5eWhI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5eXNj', 'Classical', 'cfruzn', 1621, 'Brazvill', 1619, 'e4,e6,d4,d5,exd5,Qxd5,c4,Qa5+,Bd2,Qb6,Bc3,Nc6,c5,Bxc5,dxc5,Qxc5,Nf3,f6,Na3,b5,Nxb5,Ba6,Nxc7+,Kf7,Nxa6,Qh5,Qd7+,Nge7,Bc4,Qf5,Nc7,Qe4+,Be2,Rad8,Ne5+,Nxe5,Qxe6+,Kg6,Bxe5,Qxg2,Bd3+', 'Rxd3,Rg1,Qxg1+', 'https://lichess.org/training/5eXNj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5eYPU', 'Rapid', 'Jbs_72', 1868, 'tathagatachess', 1685, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,O-O,a6,Be2,Be6,d4,exd4,Nxd4,Nxd4,Qxd4,Qd7,Bf4,Bg4,f3,Be6,Rad1,Be7,Nd5,Nxd5,exd5,Bf6,dxe6,Bxd4+,Rxd4,Qxe6', 'Re4,Kd7,Rxe6', 'https://lichess.org/training/5eYPU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ez9Z', 'Rapid', 'semberac33', 1750, 'peterkans', 1774, 'e4,c6,b3,d5,exd5,cxd5,Bb2,Bf5,Bb5+,Nc6,Ne2,a6,Bxc6+,bxc6,Nd4,Bg6,O-O,e6,d3,Nf6,Nxc6,Qc7,Ne5,Bd6,Nxg6', 'Bxh2+,Kh1,hxg6', 'https://lichess.org/training/5ez9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5EZbx', 'Rapid', 'SPB_SATOR', 2012, 'Tal-M1991', 1965, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,c5,Bd3,Bxd3,Qxd3,c4,Qd1,Nc6,c3,Bd6,Bg3,Nf6,Nbd2,Ne4,Nxe4,dxe4,Nd2,Bxg3,hxg3,Qd5,Qg4,f5,Qxg7,O-O-O,Rxh7,Rxh7,Qxh7,Kb8,O-O-O,Qa5,Kb1,b5,a3,Qa4,Rh1,a5,Qf7,b4,Rh7', 'Qd1+,Ka2,b3+,Nxb3,cxb3#', 'https://lichess.org/training/5EZbx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ezCZ', 'Rapid', 'draxmapudra', 1756, 'supermik', 1786, 'e4,e5,Nf3,d6,Bc4,Nc6,O-O,f5,d3,f4,c3,g5,d4,g4,d5,gxf3,dxc6,fxg2', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/5ezCZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5F3ry', 'Rapid', 'Buczer94', 1803, 'chessnand', 1756, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,d6,Nc3,Na5,Bd5,Nxd5,Nxd5,Nc6,d4,O-O,dxe5,dxe5,Nxe7+,Qxe7,Qd5,Bb7,Be3,Rad8,Qb3,Na5,Qc3,Nc4,Bg5,f6,Bh4,c5,b3,Nd6,Rad1,Nxe4,Qa5,b4,Rxd8,Rxd8,Nxe5,g5,f3,gxh4,Nd3,Qd6,fxe4,Qd4+,Kh1,Bxe4', 'Rxe4,Qa1+,Re1', 'https://lichess.org/training/5F3ry');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5F52P', 'Rapid', 'Sendek', 1619, 'yasar97', 1652, 'd4,Nf6,Bg5,d5,e3,h6,Bh4,g5,Bg3,Nc6,h4,g4,Be2,h5,c4,e6,Bf4,Bd7,Bg5,Bg7,Nc3,a6,cxd5,exd5,Nxd5,Bf5,Qb3', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/5F52P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5F69h', 'Rapid', 'Raoni', 1904, 'Marquezan', 1635, 'Nf3,Nc6,e4,e5,Bc4,Nf6,O-O,Bc5,d4,Bxd4,Nxd4,Nxd4,f4,d6,Nc3,O-O,Nd5,Nxd5,Bxd5,c6,Bb3,b5,c3,Nxb3,Qxb3,Ba6,Rd1,Qe7,f5,Rad8,Be3,Kh8,Rd2,c5,Rad1,Rd7,Bxc5,Rfd8,Be3,Qh4,Qc2,Bb7,g3,Qg4,Bc5,Bxe4,Qb3,Qf3,Qxb5,Qh1+,Kf2,Qg2+,Ke1,dxc5,Rxd7,Qg1+,Kd2,Rxd7+,Qxd7', 'Qf2+,Kc1,Qc2#', 'https://lichess.org/training/5F69h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5F90x', 'Classical', 'kinpingmeh', 1686, 'CVLVIN', 1689, 'd4,d5,c4,dxc4,Nc3,e6,e4,Bb4,d5,exd5,exd5,Bxc3+,bxc3,Qe7+,Be3,Nf6,Bxc4,O-O,Nf3,Bg4,O-O,Bxf3,Qxf3,Re8,Bg5,Nbd7,Rfe1,Qc5,Bb3,b5,Bxf6,Nxf6,h3,Rxe1+,Rxe1,Re8', 'Rxe8+,Nxe8,d6,Nxd6,Qa8+', 'https://lichess.org/training/5F90x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FCJl', 'Rapid', 'Zajel', 1836, 'DrBaryon0', 1833, 'd4,d5,Bg5,h6,Bh4,Nc6,e3,Nf6,a3,e6,Bd3,Be7,h3,Nd7,Bg3,e5,dxe5,Ndxe5,Bxe5,Nxe5,Nf3,Bf6,Nc3,c6,O-O,Be6,Nd4,Bd7,Bf5,O-O,Qh5,Nc4,Bxd7,Qxd7,b3,Bxd4,exd4,Nd6,Ne2,Rae8,Nf4,Ne4,Qg4,Qc7,Nh5,Ng5,h4,Ne6', 'Nf6+,Kh8,Nxe8', 'https://lichess.org/training/5FCJl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5fD2I', 'Rapid', 'alimar55', 1883, 'akovner', 1903, 'd4,Nf6,c4,e6,Bg5,Be7,Nc3,O-O,e4,d5,Bxf6,Bxf6,e5,Be7,cxd5,exd5,Nf3,c6,Bd3,Bg4,Qc2,h6,h3,Be6,O-O,Nd7,Nh2,c5,dxc5,Nxc5,f4,Nxd3,Qxd3,d4,Ne2,Bc5,f5,Bd5,f6,Re8,Qg3,g6,Nf4,Rxe5,Nxg6,Rg5,Ng4,fxg6', 'Nxh6+,Kh7,Qxg5', 'https://lichess.org/training/5fD2I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Fddk', 'Blitz', 'nowasol', 2041, 'doute', 2060, 'f4,c5,b3,d6,Bb2,Nf6,Nf3,e6,e3,Be7,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,O-O,d3,Rb8,Nbd2,b5,Qe1,a5,Qg3,d5,Qh3,h6,g4,c4,g5,hxg5,Nxg5,cxd3,cxd3,Qb6,Rae1,a4,Ndf3,axb3,axb3,Ra8,Ne5,Nxe5,fxe5,Nh5,Qxh5,Bxg5,Qxg5,Ra2,Bd4,Qa5,Ra1,Rxa1,Rxa1,Qd2,Rf1,Qxd3,Rf3,Qxb3,Rh3,Qd1+,Kg2,Qe2+,Kg3,Qe1+,Kf3,Qf1+,Kg4,Qe2+,Kh4,b4,Rg3,g6,Qf6', 'Qh5#', 'https://lichess.org/training/5Fddk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5feki', 'Classical', 'say_sayb', 1668, 'Iyce', 1684, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Bb4+,c3,Bxd3,Qxd3,Ba5,Bg5,Ne7,Nbd2,O-O,O-O,Nd7,h3,Re8,Bh4,c5,Ng5,g6,Ngf3,c4,Qe3,Nf5,Qf4,Nxh4,Nxh4,g5,Qg4,Kh8,Nhf3,Rg8,g3,f6,Kg2,f5,Qh5,g4,hxg4,fxg4,Rh1,gxf3+,Nxf3,Qe7,Nh4,Raf8,Ng6+,Rxg6,Qxg6,Rg8,Qh5,Rg5,Qh4,Qg7,Rae1,b6,Re3,b5,Rf3,b4,a4,bxc3,bxc3,Qg6,Re3,Nb6,Rf3,Nd7,Re3,Bd8,Kf1,Qg8,Rf3', 'Rf5,Qxh7+,Qxh7,Rxh7+,Kxh7', 'https://lichess.org/training/5feki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FfFN', 'Classical', 'AndreyM1968', 1765, 'rinatUs', 1888, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,Nf6,O-O,e6,Bg5,Nbd7,Nc3,Be7,Ne5,Bxe2,Qxe2,a6,f4,O-O,Bxf6,Nxf6,a3,Qb6,Qd3,Bd6,b4,Qc7,Na4,Nd7,Rac1,f6,Nxd7,Qxd7,Nc5,Qc8,g3,b6,Nb3,Ra7,c4,dxc4,Rxc4,Rc7,Rfc1,Rff7,Qe2,Rxc4,Rxc4,Rc7,Rxc7,Bxc7,Qc4,Qd7,f5,Kf7', 'fxe6+,Qxe6,Qxc7+', 'https://lichess.org/training/5FfFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FFnx', 'Rapid', 'MrSec', 1664, 'Jaquese', 1673, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Bb4,Bd2,d6,Nf3,Nf6,Qc2,Nc6,a3,Ba5,b4,Bb6,b5,Nd4,Nxd4,Bxd4,Bd3,O-O,O-O,Re8,Bg5,Qd7,Rab1,Qg4,Bxf6,Bxf6,Nd5,Bd8,a4,Qd7,f4,c6,bxc6,bxc6,Nb4,Bb6+,Kh1,Bb7,Rbd1,Bc5,Na2,h6,e5,Qe7,exd6,Bxd6,Nc3,a5,Ne4,Bb4,Ng3,Qf6,Ne4,Qe7,Ng3,c5,Bb5,Red8,f5,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,Qe2,Bd5,Nh5,c4,f6,g6,Nf4,Bb7,Bxc4,Bc3,Bxf7+,Kxf7', 'Qe6+,Kf8,Nxg6#', 'https://lichess.org/training/5FFnx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FFrX', 'Blitz', 'superCee', 1907, 'okemakindetoluwani', 2236, 'd4,Nf6,c4,e6,e3,b6,Nf3,Bb7,Nc3,Bb4,Bd3,Bxc3+,bxc3,d6,O-O,c5,h3,Nc6,Re1,O-O,Bc2,Ne8,e4,f5,exf5,exf5,Qe2,Qd7,Bg5,g6,Bh6,Ng7,d5,Na5,Ng5,Rae8,Ne6,Rf7,Bxg7,Rxg7,Qd2,Nxc4,Qh6,Rge7,Red1,Bxd5,Nf4,Bf7,Bb3,b5,a4,a6,axb5,axb5,Kh2,Qc6,Rd3,Qe4,Rg3,Nd2,Bxf7+,Rxf7,Nh5,Qe6,Qf4,Ne4,Rf3,gxh5,Re1,Qg6,Rg3,Nxg3,Rxe8+,Kg7,fxg3,Qf6,Re3,Qh6,Qf3,Qf6,Rd3,Qg6,Rd5,Rf6,c4,b4,Rd2,Kh6,Re2,Kg7,Re7+,Kh6', 'Qf4+,Qg5,Rxh7+,Kg6,Rg7+,Kxg7,Qxg5+', 'https://lichess.org/training/5FFrX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FICh', 'Rapid', 'phantom355', 1989, 'lndz', 1924, 'c4,e6,Nc3,d5,cxd5,exd5,d4,c5,e3,Nf6,Nf3,Bd6,Be2,O-O,O-O,a6,h3,Nc6,a3,c4,b3,b5,bxc4,bxc4,Bd2,Bc7,Na4,h6,Nc5,Nh7,Rb1,Ng5,Nxg5,hxg5,Bg4,Qd6,g3,f5,Bf3,Qh6,Bg2,f4,Bxd5+,Kh8,Bg2,fxg3,fxg3,Bxh3,Rf3,Bg4', 'Rxf8+,Rxf8,Qxg4', 'https://lichess.org/training/5FICh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5fjr9', 'Rapid', 'Corruptful', 1627, 'imsupahbad', 1686, 'e4,e5,Nf3,Nc6,Bc4,d6,d3,Be6,Bxe6,fxe6,O-O,h6,Nc3,Qd7,Be3,O-O-O,a4,d5,d4,exd4,Nxd4,Nxd4,Bxd4,dxe4,Bxa7,b6,Nxe4,Nf6,Qf3,Kb7,Bxb6,cxb6,Nxf6+,Qc6,Qxc6+,Kxc6,Ne4,Be7,Rad1,g5,Rxd8,Rxd8,Nc3,Bb4,Ne4,b5,c3,Be7,axb5+,Kxb5,f4,g4,g3,Kc4,Kf2,Kd3,Re1,Rb8,Re3+,Kc2,b4,Kb3,Kg2,Ra8,h3,Ra2+,Kf1,gxh3,Nf2,h2,Rf3', 'Rxf2+,Kxf2,h1=Q', 'https://lichess.org/training/5fjr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FJuC', 'Blitz', 'sonia_chelebezz88', 1934, 'nabeelghassan2021-4', 1920, 'e4,d5,Nf3,dxe4,Ng5,Qd4,Qe2,Bf5,c3,Qd5,Na3,Nc6,c4,Qe5,Nb5,O-O-O,a4,Qf6,Nh3,Bxh3,gxh3,Kb8,Bg2,Nd4,Nxd4,Qxd4,O-O,f5,Ra3,e5,Rb3,f4,Qg4,Nf6,Qe6,Bd6,d3,f3,Bh1,Rhe8,Qf5,exd3,Rxd3,Qxc4,Bxf3,e4,Rc3,Qf7,Be2,g6,Qb5,Nd5,Rb3,Nb6,a5,a6,Qg5,Nd5,Bxa6,Nf4,Rxb7+,Ka8,Qb5', 'Nxh3+,Kh1,Qf3#', 'https://lichess.org/training/5FJuC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5fjXT', 'Rapid', 'DragosG', 1810, 'masterRitvik', 1726, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,d6,Qxg7,Qf6,Qxf6,Nxf6,Nc3,Be6,O-O-O,O-O-O,g3,Ng4,Rd2,Ne5,f4,Nc4,Bxc4,Bxc4,Rhd1,Rhg8,Rd4,Be6,Nd5,Bxd5,Rxd5,Rde8,Re1,Re6,Kd2,c6,Rf5,Rg7,e5,dxe5,Rfxe5,Rd6+,Kc1,Kc7,Rd1,Rxd1+,Kxd1,f6,Re6,Rf7,f5,h5,h3,Rd7+,Ke2,Rd6,Rxd6,Kxd6,g4,hxg4,h4,Ke5,h5', 'Kxf5,h6,Kg6', 'https://lichess.org/training/5fjXT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5fkEC', 'Rapid', 'Marko1777', 2064, 'nileshvyas', 1937, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,c6,Qc2,Nbd7,cxd5,cxd5,Nf3,a6,Bd3,h6,Bh4,O-O,h3,b5,a3,Bb7,O-O,Rc8,Qe2,Nb6,Ne5,Nfd7,Bxe7,Qxe7,Nxd7,Nxd7,Rac1,e5,Qg4,e4,Bb1,Nf6,Qh4,Kh7,Rfe1,g5,Qg3,Nh5,Qg4,Kg6,Nxd5', 'Bxd5,Qxc8,Rxc8', 'https://lichess.org/training/5fkEC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FKvT', 'Rapid', 'shiitaco', 1882, 'Prospecto', 1647, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Bb5+,c6,Bc4,Nf6,O-O,Be7,Be3,O-O,Rd1,Qc7,Nd2,b5,Bb3,c5,c4,b4,Nf1,a5,Ng3,g6,Bc2,Kg7,Ne2,Nc6,Qh3,h5,f4,exf4,Bxf4,Qc8,Qe3,Ng4,Qc1,Rh8,h3,Nge5,Rd5,Bf6,Rxc5,Qe6,Ba4', 'Nd3,Qe3,Nxc5', 'https://lichess.org/training/5FKvT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5flQW', 'Rapid', 'monwin', 1981, 'KHVOROV', 1891, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Be7,d4,Nf6,Qc2,O-O,h3,a6,O-O,Bd7,Be3,Qc8,Nbd2,exd4,cxd4,b5,Bb3,Nb4,Qc3,a5,a3,Nc6,d5,Nb8,Rfc1,Bd8,Bd4,h6,Rab1,a4,Bd1,Na6,Be2,Nh5,Nh2,Nf4,Bf3,f6,Qe3,Ng6,Bh5,Nh8,Ng4,Nf7,f4,Nh8,Qg3,Nf7,Bxf6,Kh7,Bxd8,Qxd8,e5,dxe5,fxe5,Bxg4,Qd3+,Kh8,Bxf7,Rxf7,hxg4,Qg5,e6,Re7,Qd4,Rd8,Rf1,Rxd5', 'Rf8+,Kh7,Qe4+', 'https://lichess.org/training/5flQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5fMSb', 'Rapid', 'noble_shrek', 1705, 'LayMyPie', 1811, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,g3,b6,Bg2,Bb7,a3,d6,Nc3,Be7,Nd5,Nxd5,exd5,Na5,b4,Nc4,Qe2,Ne5,Bb2,Bf6,f4,O-O,fxe5,dxe5,Qg4,Bxd5,Bxd5,Qxd5,Qf3', 'e4,Qb3,Qxb3,cxb3,Bxb2', 'https://lichess.org/training/5fMSb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5fNbP', 'Rapid', 'Peter_Tenglund', 1796, 'mamostee', 1918, 'e4,e5,Nf3,Nc6,Bc4,Be7,d3,d6,h4,Bg4,Nc3,Nd4,Bd2,Bxh4,Rxh4', 'Bxf3,gxf3,Qxh4', 'https://lichess.org/training/5fNbP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5fqtD', 'Rapid', 'Neoignis17', 1869, 'mohsenarivan', 1912, 'c4,e5,d3,Nc6,g3,Qf6,Bg2,Bc5,e3,Bb4+,Bd2,Bxd2+,Nxd2,d6,Ne2,e4,Nxe4,Qxb2,N4c3,Nb4,O-O,Bf5,Rb1,Qa3,e4,Bg4,f3,Bh5,Qa4+,Qxa4,Nxa4,Nxd3,Rxb7,Kd8,Rfb1,Ne5,Nd4,Kc8,Bh3+,Kd8,Rb8+,Rxb8,Rxb8+,Ke7,Nf5+,Kf6,g4,Bg6,Nd4,Nxc4,Rb7,c5,Nb5,a6,Nc7,a5,Nd5+,Kg5,Kf2,Nf6,Nxf6,Kxf6,Nb6,Nxb6,Rxb6,Ke5,Ra6,Rb8,Rxa5,Kf4,Bf1,Rb2+,Be2,c4,Ra3,f6,Kf1,Bf7,Rc3,Rxa2,Bxc4,Bxc4+,Rxc4,Rxh2,Rc3,Ke5,Kg1,Rb2,Rd3,g6,Kf1,h5,gxh5,gxh5,Rd5+,Kf4,Rf5+,Kg3,Rxf6,h4,Rxd6,Kxf3,e5', 'Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/5fqtD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FRJb', 'Rapid', 'savageseneca', 1604, 'Abdallah_osman', 1619, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,h3,b5,Bb3,Be7,O-O,O-O,Bg5,Bb7,Bxf6,Bxf6,Nf3,Nc6,Re1,Ne5,Nxe5,Bxe5,Rb1,Qc7,Qf3,d5,exd5,exd5,Bxd5,Bxd5,Nxd5,Qd6,Rbd1,Bxb2', 'Ne7+,Qxe7,Rxe7', 'https://lichess.org/training/5FRJb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FucU', 'Rapid', 'LuisB20', 1903, 'RomanoIV', 1847, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Be7,c3,Nf6,Re1,O-O,h3,Bd7,Ba4,d5,exd5,Nxd5,Bxc6,Bxc6,Nxe5,Be8,d4,f6,Nf3,Bf7,Nbd2,Nf4,Ne4,Ng6,Ng3,Bd6,Ne4,Be7,Ng3,Bd6,Nf5,Qd7,Qd3,Rae8,Be3,Nf4,Bxf4,Bxf4,a3,c5,Rad1,cxd4,N3xd4,Rxe1+,Rxe1,Re8,Re2,Bg6,Qc4+,Bf7,Qd3,a6,Kf1,b5,Re4', 'Bc4,Qxc4+,bxc4', 'https://lichess.org/training/5FucU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5fueg', 'Rapid', 'P4SSP4WN', 1606, 'Stockfish109', 1618, 'e4,e6,Nf3,d5,exd5,exd5,Bb5+,c6,Ba4,Nf6,O-O,Be7,Re1,O-O,d3,h6,h3,Nbd7,Nd4,Nc5,Bb3,Nxb3,axb3,Bc5,Be3,Bb6,Qf3,Bd7,c4,dxc4,bxc4,Ba5,Re2,Re8,Nb3,Bb6,Nc3,a6,Bxb6,Qxb6,Nd2', 'Qxb2,Rb1,Qxc3', 'https://lichess.org/training/5fueg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FUIP', 'Rapid', 'jlch', 1661, 'Coulbert', 1662, 'e4,c5,Bc4,d6,Nf3,Nf6,d3,a6,Nc3,Nc6,Bf4,Bg4,h3,Bh5,g4,Bg6,Nh4,e6,Nxg6,hxg6,Bg5,Be7,a3,Nd4,Be3,e5,Bxd4,exd4,Nd5,Nxd5,Bxd5,Qb6,Bb3,O-O-O,Qd2,Bf6,O-O-O,Be5,Bxf7,Rdf8,Bxg6', 'Bf4,Bf5+,Rxf5', 'https://lichess.org/training/5FUIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FWPu', 'Rapid', 'kazakow-25_53', 2105, 'AlberBond', 2121, 'e4,e6,d4,d5,Nc3,c5,Bf4,Bd6,e5,Be7,Nf3,cxd4,Nxd4,Nc6,Bb5,Qb6,a4,Bd7,a5', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/5FWPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5FWr1', 'Rapid', 'Krsto', 2062, 'the2towers', 2214, 'e4,g6,d4,d6,Nc3,Bg7,Be3,Nf6,Qd2,O-O,O-O-O,c6,Bh6,Bxh6,Qxh6,Ng4,Qh4,e5,Qg3,Qg5+,Kb1,Qe7,h3,Nf6,Nf3,Nh5,Qg5,Qxg5,Nxg5,f6,Nf3,b5,dxe5,dxe5,a4,a6,g3,Ng7,Rd6,Ne8,Rd8,Nd7,Be2,Kf7,Rd1,Nc5,axb5,axb5,b4,Nb7,R8d7+,Kg8,Re7,Ng7,Nd2,Rd8,Rc7,Ne6,Rxc6,Nd4,Rxf6,Bxh3,Nb3,Nxe2,Rxd8+,Rxd8,Nxe2,Nd6,Nc3,Kg7,Nd5', 'Nxe4,Rb6,Rxd5', 'https://lichess.org/training/5FWr1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5fwwd', 'Rapid', 'rebill', 1691, 'OUEMO', 1715, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Ne5,Nd7,Nxg6,hxg6,Bc4,e6,d3,Ngf6,Bg5,Be7,Qe2,a5,O-O,O-O,h4,b5,Bxe6,fxe6,Qxe6+,Kh8,Rae1,Nc5', 'Qxe7,Qxe7,Rxe7', 'https://lichess.org/training/5fwwd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5fZeN', 'Rapid', 'kenny220873', 1710, 'yashoneyogesh', 1709, 'e4,b6,Qf3,Bb7,Bc4,e6,h3,Nf6,d3,Be7,c3,O-O,Bb3,d6,Bd1,Nfd7,Qg3,Ne5,h4,Nbd7,Bh6,Bf6,Bg5,Ng6,Bxf6,Nxf6,h5,Ne5,h6,g6,Nd2,Kh8,d4,Ned7,e5,dxe5,dxe5,Ng8,Bf3,Bxf3,gxf3,f6,exf6,Qxf6,O-O-O,Nc5,Qxc7,Ne7,Kb1,Rf7,Nc4,Nd5,Qc6,Qf5+,Ka1,Raf8,Nd6,Qc2,Nxf7+,Kg8,Rb1,Rxf7,Nh3,Nxc3,bxc3', 'Qxc3+,Rb2,Nb3+,axb3,Qxc6', 'https://lichess.org/training/5fZeN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5g6gC', 'Rapid', 'sagitarium', 1777, 'Hebatea97', 1793, 'd4,d5,c4,c6,Nf3,Nf6,Bg5,e6,Nc3,Be7,e3,h6,Bh4,Nbd7,Bd3,c5,O-O,cxd4,exd4,Nb6,c5,Nc4,b3,Nb2,Qc2,Nxd3,Qxd3,O-O,Bg3,b6,b4,Bb7,Rfe1,bxc5,bxc5,a5,Rab1,Ba6,Qc2,Nh5,Be5,Bf6,Na4,Bxe5,Nxe5,Nf4,Qd2', 'Qg5,Qxf4,Qxf4', 'https://lichess.org/training/5g6gC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5g7Zc', 'Rapid', 'BMJohnSwan', 1921, 'Kocherginbobrik1972', 1856, 'd4,d5,Nf3,Bf5,Bf4,e6,e3,Nd7,c4,Bxb1,Rxb1,Bb4+,Nd2,c5,a3,Bxd2+,Qxd2,cxd4,exd4,Ne7,Be2,Nf6,O-O,Ne4,Qc1,Nf5,cxd5,Nxd4,Bd3,Qxd5,Bxe4,Ne2+,Kh1,Qxe4,Qe3,Qxf4,Qxe2,O-O,Rbc1,Rac8,Rcd1,a6,Rd7,b5,Rfd1,Rc1,g3,Rxd1+,Qxd1,Qxf2,Rd2,Qc5,Qf3,Qc1+,Qd1,Qc6+,Kg1,h6,Qe2,Rc8,b4,Qc1+,Kf2,Qxa3,Qe4,Qc3,Rd3,Qf6+,Kg2,Rc4,Qa8+,Kh7,Rf3,Rc2+,Kh3,Qb2,Qe4+,Kh8,Rxf7,Rxh2+,Kg4,Qe2+,Qxe2,Rxe2,Ra7,Re4+,Kh5,Rxb4,Rxa6,Rb3,g4,e5', 'Kg6,Rf3,Ra8+,Rf8,Rxf8#', 'https://lichess.org/training/5g7Zc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5gC1F', 'Rapid', 'MisterBardamu', 1856, 'homid8558', 1618, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Nf6,b4,Bb6,b5,Nxd4,cxd4,Nxe4,f3,Qh4+,g3,Nxg3,hxg3,Qxh1,Qd3,O-O,Nc3,Ba5,Kf2,Qh2+,Bg2,d6,Bg5,Bh3,Rg1,Bb6,Nd5,Bxg2,Rxg2,Qh5,Ne7+,Kh8,Bf4,c5,Kg1,cxd4', 'Rh2,Qxh2+,Kxh2', 'https://lichess.org/training/5gC1F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Gcvz', 'Rapid', 'liget', 1653, 'Dr-Zoidberg', 1668, 'e4,c5,Nf3,Nc6,c4,g6,Nc3,Bg7,Be2,Nf6,d4,cxd4,Nxd4,Nxe4,Be3,Nxc3,bxc3,O-O,O-O,Qa5,Qd2,d6,Bh6,Bd7,Bxg7,Kxg7,h4,Rac8,h5,Ne5,h6+,Kg8,f4,Nxc4,Bxc4,Rxc4,Rac1,Rfc8,Rf3,Bc6,Re3,e6,Qd3,d5,Nxe6,fxe6,Rxe6,Re4,Rxe4,dxe4,Qd4,Qc7,Qc4+,Kf8,Qc5+,Qe7,Qd4,Rd8,Qh8+,Kf7,Qg7+,Ke6,Qe5+,Kd7', 'Rd1+,Kc8,Qxe7', 'https://lichess.org/training/5Gcvz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ge6A', 'Rapid', 'florense123', 2062, 'Lucianosky', 2008, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,d4,Be6,Nc3,Be7,f4,g6,Bd3,Rf8,O-O,Bg4,Qe1,Kg8,e5,Ne8,Qg3,Bf5,Bc4+,Kh8,Nd5,c6,Nxe7,Qxe7,c3,d5,Bb3,Ng7,Qf2,Nd7,h3,Rac8,g4,Be4,Bc2,Bxc2,Qxc2,c5,Qd3,cxd4,cxd4,Nb6,f5,gxf5,gxf5,Rg8,Kh2,Qc7,Rf2,Qc4,Qxc4,Rxc4,e6,Rxd4,e7,Nxf5,Rxf5,Re4,Bf4,Nd7,Rxd5,Rxe7,Rxd7,Rxd7,Be5+,Rgg7,Rg1,Kg8,Rxg7+,Rxg7,Bxg7,Kxg7,Kg3,Kg6,Kg4,h6,h4,h5+,Kf4,Kf6,Ke4,Ke6,Kf4,Kf6,Ke4,Ke6,b3,b6,a3,a6,a4,a5,Kd4', 'Kf5,Kd5,Kg4', 'https://lichess.org/training/5ge6A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GENm', 'Rapid', 'CasparOuf', 1705, 'am1394', 1804, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,d3,Nf6,Nc3,Be7,O-O,O-O,a3,a6,Ba4,b5,Bb3,Nd4,Nxd4,exd4,Nd5,Nxd5,Bxd5,c6,Bb3,c5,Re1,Be6,Bxe6,fxe6,e5,dxe5,Rxe5,Qd6,Qe1,Bh4,g3,Bf6,Rxe6,Qd5,Bf4,Qf5,Qe2,Qxh3,Re1,h6,Qf3,Bg5,Qd5,Rad8,Qe5,Bxf4,gxf4,Qg4+,Kf1,Rxf4,Re8+,Rf8,Rxd8,Rxd8,Qxc5,Qh3+,Kg1,Qg4+,Kf1,Rf8,Qd5+,Kh8,Qd6,Qf3,Qxd4', 'Qh1+,Ke2,Re8+', 'https://lichess.org/training/5GENm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5gIoZ', 'Classical', 'KADelgado', 1836, 'sunny2000', 1822, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bf4,Bg4,Be2,e6,c3,Bd6,Bg3,O-O,Nbd2,h6,Ne5,h5,Nxg4,hxg4,Bh4,Nbd7,Bxg4,Qb6,Nb3,g6,Qf3,Kg7,Bg5,Rae8,O-O-O,Ne4,h4,Ndf6,Bxf6+,Nxf6,h5,g5,h6+,Kg6,Bh5+,Nxh5,Qxh5+,Kh7,g3,Rg8,Qxf7+,Kh8,Rh5,Ref8,Qxe6', 'Bf4+,gxf4,Qxe6', 'https://lichess.org/training/5gIoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GizV', 'Classical', 'nagaraj1946', 1730, 'sixsillysisters', 1928, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Be3,Nc6,Nge2,Qb6,Qd2,cxd4,Nxd4,Bc5,Na4,Bb4,c3,Qa5,Qc2,Be7,Bb5', 'Nxd4,Bxd7+,Bxd7', 'https://lichess.org/training/5GizV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GjI9', 'Classical', 'GregMyers', 1746, 'syd79', 1677, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,dxc4,a4,Bf5,e3,e6,Bxc4,Bb4,O-O,O-O,Qe2,Nbd7,e4,Bg6,Bd3,Re8,Na2,Ba5,b4,Bc7,Bb2,e5,dxe5,Nxe5,Nxe5,Bxe5,f3', 'Bxb2,Qxb2,Qxd3', 'https://lichess.org/training/5GjI9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GlbO', 'Rapid', 'Senatle_Kamo', 1822, 'vranjevcan', 1817, 'e4,c5,Bc4,Nc6,Nc3,Nf6,f4,e6,Nf3,d5,exd5,exd5,Qe2+,Be7,Bb5,Qc7,d3,O-O,O-O,Bg4,Bxc6,bxc6,h3,Bh5,Qe1,Rae8,Ne5,Bd6,g4,Bxe5,fxe5,Nxg4,hxg4,Bxg4,Qg3,Re6,Bf4,Rg6,Kf2,Qb6,b3,c4+,Ke1,cxb3,axb3,Re8,Kd2,d4,Ne4,Qb4+,c3,dxc3+,Nxc3,Qxb3,Rxa7,Rd8,Be3,Qb2+,Ke1,Qxc3+,Bd2,Qb3,Rfxf7,h5,Qf4,Qxd3,Rxg7+,Kh8', 'Rh7+,Kg8,Qf7#', 'https://lichess.org/training/5GlbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GLyk', 'Rapid', 'eugenemika', 1628, 'Marina-hina', 1621, 'e4,c5,Bc4,d6,h3,Nf6,d3,g6,Nf3,Bg7,Nc3,Nc6,O-O,O-O,a3,Nd4,Bg5,Be6,Rb1,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,Nxd4,cxd4,Bxe7,Rfe8,Bh4,g5,Bg3,f5,Qh5,f4,Bh2,Rf8,Rfe1,f3,Bg3,fxg2,Re4,Qa2,Rbe1,Qf7,Qxg5,h6,Qg4,Qf5,Qe2,Qxh3,Rh4,Qf5,Kxg2,Qf7,Kg1,Rfe8,Re4,Kf8,Qg4,Rxe4,Rxe4,Re8,Rf4,Bf6,Bh4,h5,Qf3,Re1+,Kh2', 'Be5,Bg3,Bxf4', 'https://lichess.org/training/5GLyk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5gm7N', 'Blitz', 'tomdecuigniere', 2452, 'FM WattSchrott', 2458, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,d3,d6,Nf3,c5,O-O,Nc6,Rb1,Rb8,a3,e5,b4,b6,Qa4,Bd7,b5,Na5,Bd2,h6,Nd5,Nxd5,cxd5,f5,Bxa5,bxa5,Nd2,a6,Qc2,axb5,a4,b4,Nc4,Qe7,Nxa5,Ra8,Nc6,Qe8,h4,g5,hxg5,hxg5,e3,Bf6,f4,exf4,exf4,Bxc6,dxc6,Bd4+,Rf2,Qe3,Kf1,Qxf2+,Qxf2,Bxf2,Kxf2,gxf4,gxf4,Rxa4,d4,Ra2+,Kg3,Rxg2+,Kxg2,Rc8,d5,Kf7,Kf3,Rh8,Ra1,Rb8,Ra7+,Ke8,Rh7,Rd8,Rb7,Ra8,Kg3,Kd8,Kh4,Kc8,Rg7,b3', 'Rg8+,Kc7,Rxa8,b2,Ra7+', 'https://lichess.org/training/5gm7N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GMUF', 'Rapid', 'hoseinshahh', 1764, 'mrjimbomorrison', 1777, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nb6,Nf3,Bg4,Be2,e6,a3,g6,Nc3,Bg7,Ne5,Bxe2,Qxe2,N8d7,Nxd7,Qxd7,Be3,Bxd4,Bxd4,Qxd4,Rd1,Qc5,O-O,O-O,Kh1,Qc4,Qg4,Na4,Nxa4,Qxa4,h4,h5,Qf3,c6,g4,Rad8,Rxd8,Rxd8,gxh5,gxh5,Rg1+,Kf8,Qf4,Qc2,Qh6+,Ke7,f3,Rd1,Qg5+,Kd6', 'Qd8+', 'https://lichess.org/training/5GMUF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GNGm', 'Rapid', 'ZaxarSiberia', 1928, 'DenisenkoEvgenei', 1858, 'e4,g6,Nc3,Bg7,Bc4,e6,f4,Ne7,Nf3,d6,d4,Nd7,Be3,O-O,Qd2,b6,h4,h5,Rg1,Bb7,g4,hxg4,Rxg4,d5,exd5,Nxd5,Nxd5,Bxd5,Bd3,Bxf3,Rg3,Qxh4,Bf2,Bxd4', 'Rxg6+,fxg6,Bxh4', 'https://lichess.org/training/5GNGm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5gPqD', 'Rapid', 'reminone', 1586, 'kgg1', 1608, 'e4,e5,f4,d6,Nf3,Nc6,fxe5,dxe5,c4,Bg4,h3,Bh5,d3,Nd4,Nbd2,Qf6,Be2,Bb4,Qa4+,c6,Qxb4,Nxe2,Kxe2,Bxf3+,Nxf3,O-O-O,Bg5,Qd6,c5,Qxd3+,Kf2,Nf6,Rad1', 'Nxe4+,Qxe4,Qxe4,Rxd8+,Rxd8', 'https://lichess.org/training/5gPqD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5gr9o', 'Rapid', 'lkianoush', 1851, 'foobarqux', 1629, 'e4,e5,Nf3,f5,exf5,Bc5,Be2,e4,Ne5,d5,d4,exd3,Qxd3,Nf6,Bg5,O-O,Nc3,Bxf2+,Kxf2,Ne4+,Nxe4,Bxf5,Qc3', 'Bxe4+,Nf3,Qxg5', 'https://lichess.org/training/5gr9o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GuJp', 'Rapid', 'mephistopheleso', 1959, 'Hito88', 1896, 'c4,e6,d4,d5,cxd5,exd5,Nc3,Nf6,Bg5,Be7,h3,Ne4,Bxe7,Qxe7,Nf3,Nxc3,bxc3,c5,e3,cxd4,cxd4,Qb4+,Qd2,Qd6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,O-O,Rab1,b6,a4,Nf6,Qb2,Ne4,Rfd1,Qd7,Qc2,h6,Ne5,Qf5,f3,Rac8', 'fxe4,Rxc2,exf5', 'https://lichess.org/training/5GuJp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5guNY', 'Blitz', 'Milen123', 1955, 'alvin42', 2043, 'd4,d5,c4,e6,Nf3,c6,Nc3,a6,cxd5,exd5,Bg5,f6,Bh4,Bf5,e3,Nd7,Bd3,Bg4,h3,Bh5,g4,Bf7,g5,Qb6,Qc2,Bb4,g6,Be6,gxh7,Ne7,Bg6+,Kd8,Bg3,Rc8,a3,Bxc3+,bxc3,c5,O-O,f5,Bh4,cxd4,Bxe7+,Kxe7,Nxd4,Rcf8,Rfb1,Qc7,Rb3,b5,a4,Nc5,Rb4,Ne4,axb5,Rf6,b6,Qb7,Nxe6,Kxe6,Bh5,Rxh7,Bf3,Rxh3,c4,Rxf3,cxd5+,Qxd5,Rd1,Rg6+,Kf1,Qxd1+,Qxd1', 'Rxf2+,Ke1,Rg1#', 'https://lichess.org/training/5guNY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5gvkg', 'Rapid', 'laki3', 1676, 'nomercyy', 1943, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Qc2,Bd7,Be3,f6,exf6,Nxf6,Na3,Rc8,Qd2,Ne4,Qc1,cxd4,Nxd4,Qa5,Nac2,e5,Nb3,Qc7,Bd3,Bf5,O-O,Be7,f3,Nd6,Bxf5,Nxf5,Qd2,Qd7,Nc5,Bxc5,Bxc5,b6,Bf2,O-O,Ne3,d4,Nxf5,Rxf5,cxd4,exd4,Rac1,Rd5,Qf4,Rf8,Qe4,Re5', 'Qxc6,Qxc6,Rxc6', 'https://lichess.org/training/5gvkg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5gVvp', 'Rapid', 'FM GhengisClown', 2483, 'Ya_Done', 2404, 'Nf3,c5,c4,Nf6,b3,g6,Bb2,Bg7,g3,O-O,Bg2,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,O-O,Qc7,Nc3,Be6,Qd2,a6,e4,Rac8,Nd5,Nxd5,Bxg7,Kxg7,exd5,Bf5,Rfe1,Rfe8,Qd4+,Kg8,h4,Qc5,Qf4,h5,Qh6,Qd4,Qe3,Qxe3,Rxe3,b5,Rc1,bxc4,Rxc4,Rxc4,bxc4,Rc8,Bf1,e6,dxe6,Bxe6,Re4,Kf8,Rd4,Ke7,Kg2,Rc5,Kf3,Ra5,Rd2,Ra4,Rc2,Kf6,Ke3,Ke5,Bd3,Ra3,f4+,Kf6,Kd4,Rxd3+,Kxd3,Bf5+,Kc3,Bxc2,Kxc2,Ke6,Kd3,d5,c5', 'Kd7,Kd4,Kc6', 'https://lichess.org/training/5gVvp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GWuV', 'Rapid', 'Gary4713', 2091, 'tajchessok1', 2013, 'Nf3,d6,d4,Bg4,c4,Nf6,Qb3,h6,Qxb7,Nbd7,Nbd2,e5,dxe5,Bxf3,Nxf3,Nxe5,Nxe5,dxe5,Qb5+,Nd7,g3,Rb8,Qd5,Qf6,Bh3,Bb4+,Kf1,O-O,Qxd7,Rfd8,Qf5,Rd1+,Kg2,Qc6+,Qf3,e4,Qg4,Rxh1,Kxh1,e3+,f3,Bd2,Bxd2,exd2,b3,Rd8,Rd1,Qf6,Qf5,Qb2,e3', 'Qc1,Qb1,Qxb1', 'https://lichess.org/training/5GWuV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GXNo', 'Rapid', 'ahmedali2007', 1874, 'Alisson2Brayer', 1990, 'e4,e5,Nf3,Nf6,d3,c6,g3,Be7,Bg2,O-O,O-O,Qc7,Nbd2,d5,exd5,cxd5,b3,Bg4,Qe2,Re8,c4,Bc5,h3,e4,dxe4,dxe4,Nxe4,Rxe4,Qc2,Bxf3,Bxf3,Re8,Bg5,Nbd7,Bf4,Bd6,Bg5,h6,Be3,Bxg3,Bxh6,Bxf2+,Rxf2,gxh6,Rg2+,Kf8,Qd2,Qc5+,Kh1,Qe5', 'Qxh6+,Ke7,Re2,Qxe2,Bxe2', 'https://lichess.org/training/5GXNo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GYP7', 'Rapid', 'TheLordOfChessss', 1771, 'Onlychessclassic', 1867, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,Nxe4,Qe2,Nf6,Nc3,d6,Nf3,Nc6,Qxe7+,Bxe7,Bc4,O-O,O-O,Na5,Bd3,c5,dxc5,dxc5,Re1,Be6,Bd2,c4,Be4,Nxe4,Nxe4,Bd8,Neg5,Bg4,Ne5,Bh5,b4,cxb3,cxb3,f6,Nd7,fxg5,Nxf8,Kxf8,h3,Nc6,Bc3,Bf6,Bxf6,gxf6,Re6,Kf7,Rae1,Rd8,R6e3,Ne5,g4,Bg6,Rc3,a6,Rc7+,Kg8,Kf1,b5,Rec1,f5,R1c5,Nf7,f3,fxg4,fxg4,a5,Rxb5', 'Bd3+,Kf2,Bxb5', 'https://lichess.org/training/5GYP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5gzL6', 'Rapid', 'FNABLI', 1806, 'Teregtsereg', 1699, 'e4,c5,Bc4,e6,Nf3,Nf6,Nc3,Be7,e5,Ng4,d4,Qc7,Nb5,Qc6,dxc5,Qxc5,Be2,Nxf2,Nd6+,Bxd6,Qxd6,Qxd6,exd6,Nxh1,Be3,O-O,O-O-O,Nc6,Rxh1,b6,Bb5,Bb7,c3,Bc8,Rd1,Rb8,b4,a6,Bd3,Bb7,h4,b5,h5,h6,g4,Rbe8,Kb2,e5,Bf5,Bc8,g5,g6,Bg4,hxg5,Nxg5,gxh5,Bxh5,Kg7,Ne4,Rh8,Rg1+,Kf8,Nf6,Re6', 'Bh6+,Rxh6,Rg8#', 'https://lichess.org/training/5gzL6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GzSX', 'Rapid', 'topsoul', 2000, 'mofire1', 2011, 'b3,e5,Bb2,d6,d3,Nc6,Nd2,Be6,e4,Nf6,h3,h6,a3,Be7,Ne2,Qd7,Qc1,d5,f3,d4,Nc4,O-O-O,Qd2,Nh5,h4,Kb8,g4,Nf6,b4,g6,b5,Bxc4,bxc6,Qxc6,dxc4,Qxc4,Nxd4,Qc5,Nb3,Rxd2,Nxc5,Rxc2,Nd3,Rd8,Bxe5,Nd7,Bf4,g5,hxg5,hxg5,Be3,a6,Rh7,Rf8,Rg7', 'Bf6,Rxg5,Bxa1', 'https://lichess.org/training/5GzSX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5GZWh', 'Classical', 'ammiiit', 1609, 'Scott2019', 1621, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Nc3,Ne7,Bc4,O-O,Qg4,d6,Qg3,Ng6,O-O,Bb6,Rd1,Be6,Ba6,f5,e5,f4,Qf3,d5,Bb7,Nxe5,Qh5,Rf6,Qxe5,Rb8,Bxc6,Bg4,Bxd5+,Kh8,Bf3,Qc8,Nd5,Bxf3,gxf3', 'Rg6+,Kf1,Qh3+,Ke2,Re6', 'https://lichess.org/training/5GZWh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5h0RE', 'Rapid', 'didaka', 1955, 'AmidRashidi2006', 2030, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nd2,cxd4,cxd4,Nxd4,Qa4+,Nc6,Bb5,Bd7,Nb3,Bb4+,Bd2,Bxd2+,Nxd2,Nge7,Ngf3,Qb6,O-O,Nxe5,Bxd7+,Nxd7,Ne5,Rd8,Rfd1,a6,Ndc4,Qc7,Nxd7,Qxd7,Qxd7+,Rxd7,Ne5,Rc7,g3,O-O,b4,b5,a3,Rfc8,Nd3,Ng6,Nc5,Rxc5,bxc5,Rxc5,Rac1,Rc4,f4,Ne7,Kf2,Nf5,a4,Nd6,axb5,axb5,Ra1,h5,Ra6,Ne4+,Ke3,b4,Rb6,f5,Rxe6,d4+,Rxd4,Rc3+,Rd3', 'Rxd3+,Kxd3,Nc5+,Kc4,Nxe6', 'https://lichess.org/training/5h0RE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5H1SH', 'Rapid', 'jiu08', 1737, 'mifsud', 1631, 'e4,e6,e5,d5,d4,c5,Bf4,Nc6,Bb5,Qa5+,Nc3,Bd7,Bxc6,Bxc6,dxc5,Bxc5,a3,Qb6,Be3,Bxe3,fxe3,Qxe3+,Nge2,Qxe5,O-O,Nf6,Nd4,Qe3+,Kh1,Ne4,Nxe4,Qxe4,Nxc6,bxc6,Rf3,O-O,c3,Rab8,b4,h6,Rg3,Qf4,Qh5,Rbd8,Rg4,Qf6,Kg1,Qxc3,Rf1,Qe3+,Kh1,Qe2', 'Rxg7+,Kxg7,Qxe2', 'https://lichess.org/training/5H1SH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5H3gM', 'Blitz', 'farshad_1367', 2041, 'PetuShocker', 2034, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,d4,cxd4,cxd4,Bg4,Nc3,Qd7,d5,O-O-O,Be2,Bxf3,Bxf3,Ne5,Be2,e6,Bf4,Bd6,Nb5,Nf3+,Bxf3,Qxb5,Rc1+,Kb8,dxe6,Qb4+,Bd2,Qb5,Be2,Qe5,exf7,Nf6,Bc3,Qg5,Bd2,Qxg2,Bf3,Qh3,Qb3,b6,Rc6,Rhf8,Rxb6+,axb6', 'Qxb6+,Kc8,Qb7#', 'https://lichess.org/training/5H3gM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5h5Am', 'Rapid', 'Luca275', 1742, 'tascelik', 1798, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Nbd2,Nge7,Nb3,c4,Nbd2,Ng6,g3,f6,exf6,Qxf6,Bg2,Be7,O-O,O-O,b3,b5,a4,a6,axb5,axb5,Rxa8,Rxa8,Bb2,Ra2,Qb1,cxb3,Nxb3,Ra4,Ne5,Ncxe5,dxe5,Qxe5,c4,Qf5,Qxf5,exf5,cxd5,Rb4,Ba3,Rxb3,Bxe7,Nxe7,d6,Nc6', 'Bd5+,Kf8,Bxb3', 'https://lichess.org/training/5h5Am');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5h5pw', 'Blitz', 'dcajunjie', 1727, 'Nathanalien', 1826, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Re1+,Be7,d4,O-O,dxc5,Bxc5,c3,Re8,Qd3,Rxe1+,Nxe1,Ne5,Qb5,Bxf2+,Kxf2,Ne4+,Kg1,Qf6,Be3,Nc4,Bd4,Qf4,Qxd5,Ne3,Bxe3', 'Qxe3+,Kf1,Qf2#', 'https://lichess.org/training/5h5pw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5hB5N', 'Rapid', 'Eliel_123', 1702, 'Bachatus', 1833, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f4,exf4,Bxf4,Be7,Bd3,Nc6,O-O,O-O,Nd2,b5,Nf3,Qb6+,Kh1,Rfd8,Qe2,Rac8,a3,Bg4,Be3,Qc7,Qf2,Bxf3,gxf3,Qd7,Rg1,g6,Qg2,Ne5,Nd5,Nxd5,exd5,Nxd3,cxd3,Qf5,Bd4,Qxd3,Rad1,Qc2,Bc3,Qxg2+,Rxg2,f5,Re2,Kf7,Re6,Bh4,Kg2,Rd7,Rd4,Bf6', 'Rxf6+,Kxf6,Rc4+,Kf7,Rxc8', 'https://lichess.org/training/5hB5N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5HBHT', 'Rapid', 'jull123', 1635, 'grzesiuXD', 1632, 'b3,e5,e4,d5,exd5,Nf6,c4,Bc5,Nc3,c6,Nf3,cxd5,Nxd5,Nxd5,cxd5,Qxd5,Bc4,Bxf2+,Kxf2,Qd4+,Kg3,Qxa1,Qe2,O-O,Rd1,Qxa2,Qxe5,Nc6,Qd5,Be6,Qd3,Qa5,h4,Rad8,Qe4,Qc7+,Kf2,Rfe8,Ng5,g6,Nxe6,fxe6,Bxe6+,Kg7', 'Bb2+,Rd4,Bxd4+,Nxd4,Qxd4+', 'https://lichess.org/training/5HBHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5hbJc', 'Blitz', 'BochevChessLab', 1794, 'Prosenjit60', 1896, 'd4,d5,c4,e5,dxe5,d4,e3,Bb4+,Bd2,dxe3,fxe3,Qh4+,g3,Bxd2+,Qxd2,Qe4,Bg2,Qxe5,Nf3,Qe7,Nc3,Nf6,O-O,O-O,Qc2,Nc6,Ng5,Qxe3+,Rf2,Qxg5,Raf1,Bg4,Rxf6,gxf6,Ne4,Qe3+,Kh1,Nd4', 'Nxf6+,Kg7,Qxh7#', 'https://lichess.org/training/5hbJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5hdHy', 'Blitz', 'MIS65', 1922, 'huape29', 1925, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Bd3,a6,Nf3,dxc4,Bxc4,b5,Bd3,Bb7,Rc1,Nbd7,Bb1,c5,dxc5,Nxc5,Qc2,g6,O-O,Rc8,Qe2,Re8,Ne5,b4,Nd3,bxc3,Nxc5,Bxc5,bxc3,Be7,e4,Nh5,Bxe7,Qxe7,e5,Ng7,Rfd1,Nf5,g4,Nh4,Be4,Bxe4,Qxe4,Qg5,Rc2,h5,h3,hxg4,hxg4,f5,exf6,Qxf6,f4,g5,fxg5,Qxg5,Rd7,Ng6,Rf2,Re7,Rxe7,Nxe7,Qxe6+,Kg7,Rf7+,Kh8,Rxe7,Qc1+,Qe1,Qxc3,Re8+,Kg7,Qe7+,Kg6,Qe6+,Kg5,Qf5+,Kh4,Qh5+,Kg3,Qe5+', 'Qxe5,Rxe5,Rc1+,Re1,Rxe1#', 'https://lichess.org/training/5hdHy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5HDNH', 'Rapid', 'ramanraghav1997', 2124, 'Kapuzinerstein', 2385, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Na5,Nc3,c6,h3,Bd6,O-O,Ne7,Re1,O-O,Bd2,f6,Ne4', 'Nxb3,axb3,dxe4', 'https://lichess.org/training/5HDNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5HINQ', 'Rapid', 'kramnikstyle', 2177, 'Sensui', 2025, 'd4,d5,c4,e6,g3,Nf6,Bg2,c6,Nf3,Nbd7,O-O,Bd6,Nfd2,O-O,Nc3,dxc4,Nxc4,Bc7,e4,h6,e5,Ne8,Ne4,Nb6,Nxb6,Bxb6,Qg4,Qxd4,Rd1,Qxe5,Bf4,Qxb2,Rab1,Qxa2,Bxh6,g6,Bxf8,Kxf8,Qg5,e5,Qxe5,Be6,Rb2,Qa5,Qh8+,Ke7,Qh4+,Kf8,Nf6,Nxf6,Qxf6,Qf5', 'Qh8+,Ke7,Qxa8', 'https://lichess.org/training/5HINQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5hlaF', 'Rapid', 'melik4', 2011, 'SpongeBob69', 1963, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,a6,a4,e6,Bg5,Be7,O-O,O-O,Nc3,h6,Bh4,Nbd7,d4,cxd4,Nxd4,Nb6,Bb3,e5,Nf5,Bxf5,exf5,Qd7,a5,Nc8,Nd5', 'Nxd5,Bxd5,Bxh4', 'https://lichess.org/training/5hlaF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5HmHJ', 'Rapid', 'TracWar', 1784, 'connection45', 1960, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Be2,O-O,O-O,Nc6,Be3,cxd4,cxd4,Qa5,Qb3,b6,Rac1,Bb7,Ng5,h6,Nf3,Rae8,e5,Rd8,d5,Nxe5,Nxe5,Bxe5,Bxh6,Rfe8,Bc4,Qc5,Bb5,Qd6,Bxe8,Bxh2+,Kh1,Rxe8,g3,Bxg3,fxg3', 'Bxd5+,Qxd5,Qxd5+', 'https://lichess.org/training/5HmHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5hNHl', 'Blitz', 'zacmikhail12', 1635, 'samirtaleb1984', 1626, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,Qa5+,N1c3,a6,Nd6+,Bxd6,Qxd6,Nd4,Bd3,Nf6,Bg5,Qd8,Qxe5+,Ne6,Nd5,d6,Qg3,h6,Bxf6,gxf6,O-O-O,Ng5,f4,Ne6,e5,dxe5,Bc4,Qa5,fxe5,Bd7,Nxf6+,Kd8,Rxd7+,Kc8,Qf3,Nc5,Rxf7,Rd8,Qf5+,Kb8,e6', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/5hNHl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5HoZK', 'Classical', 'Nezhmet', 1620, 'talgat81', 1600, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,d4,Qe6,Be3,Bxe2,Qxe2,Nf6,Nf3,c6,O-O,Nbd7,Rfd1,Nd5,Nxd5,cxd5,Qd3,h6,Rac1,Nb6,b3,Rc8,Re1,Qd6,Ne5,e6,Bf4,Qb4,Ng6,fxg6,Qxg6+,Kd8,Rxe6,Be7,Qxg7,Re8,Rce1,Qa3,Bxh6,Rc7,Bg5,Qb4,Bxe7+,Rcxe7,Rxe7', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/5HoZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5HQgK', 'Rapid', 'guschess2491', 1666, 'pawn-daddy', 1796, 'e4,c5,Nf3,e6,Nc3,a6,d4,cxd4,Nxd4,Bb4,Bd2,Nc6,Nf3,Nge7,a3,Ba5,Bd3,O-O,b4,Bc7,O-O,d5,exd5,exd5,Re1,Bg4,h3,Bh5,Be2,Qd6,b5,Bxf3,Bxf3,Qh2+,Kf1,Nd4,g3,Qxh3+,Bg2,Qf5,Rxe7,Bxg3,Be3,Ne6,Kg1,Bh4,Qxd5,Qxc2,Rc1,Qg6,Rxb7,axb5,Nxb5,Ng5,Bxg5,Bxg5,Rc6,Qb1+,Bf1,Bf6,Nc7,Qxb7,Nxa8,Qxa8,Bc4,Qxa3,Rc7,Qa1+,Kg2,Qe5', 'Qxf7+,Rxf7,Rc8+,Bd8,Rxd8+,Qe8,Rxe8#', 'https://lichess.org/training/5HQgK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5hQoR', 'Blitz', 'Diplodonte', 1861, 'bubibubalovic', 1915, 'e4,e5,f4,d5,exd5,c6,Nc3,cxd5,fxe5,d4,Ne4,Bf5,Ng3,Bg6,Bc4,Bc5,d3,Ne7,Nf3,O-O,O-O,Nbc6,Bf4,a6,a3,b5,Bb3,b4,axb4,Nxb4,Qe2,Nf5,Ne4,Bb6,Nd6,Ne3,Bxe3,dxe3,d4,Kh8,Rad1,f6,c3,fxe5,dxe5,Nc6,Nf7+,Bxf7,Rxd8,Raxd8,Bxf7,Rxf7,h3,Rdf8,Kh2,Nxe5,Nxe5,Rxf1,Nd7,R8f2,Qc4,e2,Qc8+,Rf8,Nxf8,Bc7+,g3', 'Rf2+,Kg1,e1=Q#', 'https://lichess.org/training/5hQoR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5HQXH', 'Rapid', 'ritchifuquer', 1728, 'becobec', 1614, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Nxd4,Qxd4,Nf6,Bg5,Be7,O-O-O,O-O,Be2,b6,e5,Bc5,Bxf6,gxf6,Qg4+,Kh8,Bf3,Rb8,exf6,Rg8,Qf4,Bxf2,Qxb8,Qxf6,Qxa7,Qe5,Qa4,d5,Kb1,d4,Nb5,Bd7,Qc4,Bxb5,Qb3,Rd8,a4,Ba6,Qxb6,Rd6,Qb8+,Kg7,Bb7,d3,Rxd3,Bxd3,cxd3,Qd4,Be4', 'Rb6,Qxb6,Qxb6', 'https://lichess.org/training/5HQXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5HtCZ', 'Rapid', 'TheDrummerPenguin', 2005, 'alanta96', 2027, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,Bg4,Be3,O-O-O,c3,e5,Be2,exd4,Nxd4,Bxe2,Qxe2,Qxg2,Qf3,Qxf3,Nxf3,f5,Ng5,Nh6,O-O,Ne5,Nd2,Nhg4,Ndf3,Nxf3+,Nxf3,Nxe3,fxe3,g6,Ne5,Rd2,Nc4,Rc2,a4,Bc5,Rad1,Re2,Rd3,f4,Rxf4,Re8,Rf3,a6,a5,b5,axb6,cxb6,b4,Be7,Nxb6+,Kb7,Nc4,Bh4,Rd7+,Kc6,Rxh7,Re1+,Kg2,Re2+,Kh3,g5,Rh6+,Kc7,Rf7+,Kb8,Rxa6,Be1,Rb6+,Ka8,Rh6,Bxc3,b5,Rg8,Kg4,Rg2+,Kf3,Rg1,h3', 'Rf1+,Kg4,Rxf7', 'https://lichess.org/training/5HtCZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5hVi1', 'Blitz', 'Donnesespiecesen1', 2020, 'Valterei', 2023, 'g4,e6,Bg2,f5,d4,Nf6,g5,Nd5,h4,Be7,c4,Nb6,Qc2,O-O,f4,Nc6,Nf3,Nb4,Qb3,a5,a3,a4,Qc3,Na6,Ne5,d6,Nd3,e5,dxe5,dxe5,Nxe5,Be6,Nd2,c6,O-O,Bc5+,Kh1,Nd7,Ndf3,Qe7,Nxd7,Qxd7,Ne5,Qe7,Be3,Bd6,Bd4,Rad8,Rad1,c5,Be3,Bb8,g6,h6,Bd5,Qxh4+,Kg1,Bxd5,Rxd5,Rxd5,cxd5,Bxe5,Qc4,Qg4+,Kf2,Qh4+,Kg1,Bd6,Rf3,Re8,Bf2,Qf6,Qd3,Nc7,Re3,Rf8,Rh3,b5,Bh4,Qxb2,Bg5,hxg5', 'Rh8+,Kxh8,Qh3+,Kg8,Qh7#', 'https://lichess.org/training/5hVi1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5HYwu', 'Bullet', 'DTsaras', 1984, 'TedBarendse', 2046, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,Bxf6,Qxf6,f3,dxe4,fxe4,Bxc3+,bxc3,Qh4+,Kd2,Qxe4,Nf3,c5,Bd3,Qf4+,Ke2,Nc6,Bb5,Bd7,g3,Qf6,Rf1,O-O,Rb1,Nxd4+,Nxd4,Qe5+,Kf2,cxd4,Qxd4,Qf5+,Kg2,Qxc2+,Kg1,Bxb5,Rxb5,Rad8,Qxa7,Rd2,Qxb7,Rxh2', 'Qxf7+,Rxf7,Rb8+,Rf8,Rfxf8#', 'https://lichess.org/training/5HYwu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5IB8V', 'Blitz', 'Elias-Lebrun', 1927, 'jean-peuplus', 2208, 'd4,Nf6,c4,d6,Nc3,Nbd7,e4,e5,d5,c6,Bd3,a6,Nge2,cxd5,cxd5,b5,b4,Nb6,O-O,Bd7,h3,Be7,Be3,O-O,Rc1,Qb8,Qb3,Rc8,Rc2,Bd8,Rfc1,Qb7,Ng3,h6,Nce2,Rxc2,Rxc2,Rc8,Rxc8,Qxc8,f4,Bxh3,gxh3,Qxh3,fxe5,Ng4,Bd4,dxe5,Bc5,Nd7,Qc2,Nxc5,Qxc5,Bg5,Nf5,Be3+,Nxe3', 'Qh2+,Kf1,Qf2#', 'https://lichess.org/training/5IB8V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5iBDQ', 'Classical', 'newagear', 1921, 'sohail_khan', 1839, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,d3,d6,O-O,O-O,Nbd2,Bg4,h3,Be6,Bb5,a6,Ba4,b5,Bc2,h6,Re1,Re8,Nf1,Qd7,d4,exd4,cxd4,d5,e5,Nh7,a4,b4,Qd3,Nf8,b3,Bd8,N1h2,Ng6,Nf1,Nce7,Bd2', 'Bf5,Qe2,Bxc2', 'https://lichess.org/training/5iBDQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5IC2K', 'Blitz', 'Rishabhjain2006', 1729, 'CM inegrepus', 2179, 'Nf3,e6,d4,d5,c4,Nf6,Nc3,Be7,Bg5,O-O,Rc1,c6,cxd5,exd5,e3,Nbd7,Bd3,Re8,Bb1,Nf8,Qc2,Ne4,Bxe7,Qxe7,O-O,Bf5,Qd1,Nxc3,Rxc3,Bxb1,Qxb1,Ne6,b3,Rf8,b4,f5,Ne5,f4,a4,fxe3,fxe3,Rxf1+,Qxf1,Rf8,Qb1,Qg5,b5,Qf6,Rc2,c5', 'Nd7,Qg5,Nxf8', 'https://lichess.org/training/5IC2K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ieCW', 'Rapid', 'Abhinav1102', 1614, 'Shahid_ishani', 1626, 'e4,c5,c4,e5,d3,Nf6,Nc3,d6,Be2,a6,Nf3,Be7,Bg5,O-O,O-O,Ng4,Bxe7,Qxe7,Nd2,Nf6,Nf3,Nc6,a3,Nd4,Nxd4,exd4,Nd5,Nxd5,exd5,Qf6,Re1,Bf5,Bg4,Bxg4,Qxg4,Rfe8,Rxe8+,Rxe8,Qd7,Qe7,Qxe7,Rxe7,Rb1,h6,h3,b5,cxb5,axb5,b4,cxb4,Rxb4,Ra7,Rxb5,Rxa3,Rb6,Rxd3,Rxd6', 'Rd1+,Kh2,d3,Ra6,d2,Ra2,Rh1+,Kxh1,d1=Q+', 'https://lichess.org/training/5ieCW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5iehy', 'Blitz', 'iri6ka_6aripova', 1537, 'Terminator302', 1538, 'e4,e5,a3,d5,exd5,Qxd5,Nc3,Qd8,d3,Nc6,Nf3,Nf6,h3,Bd6,Bg5,O-O,Qd2,Be7,O-O-O,Be6,Nb5,a6,Nc3,b5,g4,b4,Nb1,bxa3,Nxa3,Nd5,Bxe7,Qxe7,Bg2,Ndb4,Ng5,Na2+,Kb1,Nab4,Nxe6,Qxe6,Bxc6', 'Qa2+,Kc1,Qa1+,Nb1,Na2#', 'https://lichess.org/training/5iehy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ifIx', 'Rapid', 'Attitude_Killer', 1722, 'Nvcxz', 1758, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Be7,O-O,Nf6,fxe5,dxe5,Bxf7+,Kxf7,d4,Nxd4,Nxe5+,Kg8,Nc3,Bc5,Kh1,Qe7,Nd3,Bg4,Qd2,Nxe4,Qf4,Rf8,Qxf8+,Qxf8,Rxf8+,Kxf8,Nxe4,Bb6,c3,Ne6,Bd2,Bf5', 'Rf1,Ke7,Rxf5', 'https://lichess.org/training/5ifIx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Igif', 'Rapid', 'chesshoang', 1849, 'ruftata', 1761, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,d6,Nxc6,bxc6,Nc3,Nf6,O-O,O-O,Qf3,Nd7,Qg3,Ne5,Bh6,Bf6,Bd3,Nxd3,cxd3,Kh8,Be3,Bh4,Qf3,Bg5,Bxg5,Qxg5,Rad1,f5,exf5,Rxf5', 'Qxc6,Bb7,Qxb7', 'https://lichess.org/training/5Igif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5IIR8', 'Rapid', 'brioxavier', 1967, 'francois875', 1906, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,d6,O-O,O-O,Bg5,h6,Bh4,Bg4,e5,dxe5,dxe5,Bxf3,Qxd8,Raxd8,exf6,gxf6,gxf3,Rd4,Bxf6,Rxc4,Kh1,Re8,Rg1+,Kf8,Rg7,Re6,Rag1,Rxf6,Nd5,Rg6,R1xg6,fxg6,Rxc7,Bd6,Rxb7,Rh4,Kg1,Bxh2+,Kf1,Bd6,Rd7,Bb8,b4,Rh1+,Kg2,Rh5,b5,Ne5,Rd8+,Kf7,Rxb8,Rg5+,Kf1,Nxf3,Ne3,Nd2+,Ke2,Ne4,a4,Nc3+,Kf3,Nxa4,Rb7+,Kf6,Rxa7,Nc5,b6,Ne6,b7,Rb5,Ng4+,Kg5,Ne5,Nc5,Nf7+,Kf6,Nd6,Rb6,Ne4+,Nxe4,Kxe4,Ke6,Kf4,Kd6', 'Ra6,Rxa6,b8=Q+', 'https://lichess.org/training/5IIR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5IkI9', 'Blitz', 'bdamay', 1747, 'AbelM', 1683, 'd4,d5,Nf3,c6,e3,Nf6,Bd3,Bg4,Nbd2,Bxf3,Qxf3,e6,O-O,c5,c3,c4,Bc2,Bd6,e4,Be5,dxe5,dxe4,Nxe4,Nxe4,Qxe4,Qc7,Bf4,Nd7,Rad1,Nc5,Qxc4,Rc8,b4,Na6,Qxc7,Nxc7,Rd3,Nd5,Bb3,Nxf4,Rg3,Ne2+,Kh1,Nxg3+,fxg3,Rxc3,Rd1,Re3,Kg1,Rxe5,Kf2,O-O,Rd7,Rb8,Kf3,a5,a3,axb4,axb4,b5,Kf4,Re2,Kf3,Rb2,Rd3,g6,Ke4,Rxg2,h4,Rb6,Ke5,Kg7,Rc3,f6+,Kf4,e5+,Kf3,Rb2,Rc7+,Kh6,Bg8,g5', 'Rxh7+,Kg6,h5+,Kf5,g4#', 'https://lichess.org/training/5IkI9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ilcM', 'Classical', 'dim777', 1723, 'axelechec2929', 1763, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,h6,O-O,Nf6,a3,d6,h3,Bd7,d3,Qe7,Nd5,Nxd5,exd5,Nd4,Nxd4,Bxd4,c3,Bb6,d4,O-O-O,Re1,Qh4,Be3,g5,Be2,Rhg8,Bg4,f5', 'g3,fxg4,gxh4', 'https://lichess.org/training/5ilcM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5iLqD', 'Rapid', 'amigados', 1618, 'berlioz52', 1739, 'd4,Nf6,c4,e5,e3,exd4,exd4,d5,Nf3,Bg4,h3,Bh5,Bg5,Be7,Bd3,O-O,O-O,h6,Bxf6,Bxf6,g4,Bg6,Bxg6,fxg6,Ne5,Bxe5,dxe5,dxc4,Qxd8,Rxd8,Nc3,Nc6,f4,Rf8,Nd5,Rac8,Rad1,Rf7,Kg2,h5,g5,Ne7', 'e6,Nf5,exf7+', 'https://lichess.org/training/5iLqD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5InNW', 'Rapid', 'Taras_N', 1685, 'Vladis67', 1775, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Nc3,d6,h3,a6,d3,Nd4,Be3,c5,Nd5,Bd7,c3,Nc6,a4,Be7,Rb1,O-O,b4,Nxd5,exd5,Na7,bxc5,dxc5,Nxe5,Bd6,d4,b6,Nxd7,Qxd7,Rxb6,Nc8,Rxa6,Rxa6,Bxa6,cxd4,Qxd4,Ne7,Bb5,Qc7,Rc1,Nf5,Qb6,Qe7,c4,Rb8,Qa7,Qe5,Kf1,Qh2,Ke2,Qxg2,c5,Nxe3,cxd6,Rxb5,axb5,Nxd5,d7,Qe4+,Qe3,Nf4+,Kd2,Qb4+,Qc3,Qd6+,Kc2,Qxd7,Kb2,Qxb5+,Qb3', 'Nd3+,Kc2,Qxb3+,Kxb3,Nxc1+', 'https://lichess.org/training/5InNW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5iO8w', 'Rapid', 'el159', 1776, 'KANISHQchess', 1765, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Bc5,Nb3,Bb6,O-O,Nf6,Nc3,O-O,Bg5,h6,Bh4,g5,Bg3,d6,Bxd6,Re8,Bg3,Qe7,e5,Nd7,Qh5,Ndxe5,Bb5,Kh7,Bxe5,Nxe5,Bxe8,Ng6,Bb5,Nf4,Qf3,e5,g3,Nh3+,Kh1,g4,Qe2,Be6,Bd3+,Kg8,Na4,f5,Nxb6,axb6,Qxe5,Rd8,Rae1,Bd5+,f3,Qf7,Nd2,gxf3,Nxf3,Ng5,Kg2,Qh5,h4,Nxf3,Rxf3', 'Qxf3+,Kh3,Qg2#', 'https://lichess.org/training/5iO8w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5IsxV', 'Bullet', 'Eagleflying', 1768, 'arshwan', 1729, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,h4,Nbd7,h5,e5,hxg6,fxg6,f3,exd4,Qxd4,Nh5,Qd5+,Kh8,Bg5,Qe8,Qd2,Ng3,Rh3,Nxe2,Ngxe2,Ne5,Rh1,Nxc4,Qc1,Ne5,Bh6,Nd3+,Kd2,Nxc1,Raxc1,Bxh6+,Rxh6,Qe5,Rch1,Rf7,Nd5,Qxb2+,Ke3,Qxa2,Nf6,Qb3+,Kf2,Qb6+,Kg3,Rxf6', 'Rxh7+,Kg8,Rh8+,Kf7,R1h7+,Ke6,Re8#', 'https://lichess.org/training/5IsxV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5IUsl', 'Rapid', 'blueraleigh', 1629, 'PepaDeMelon', 1713, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,d6,Nf3,d5,d3,Bf5,dxe4,dxe4,Nd4,g6,Nxf5,gxf5,Qb5+,Nc6,Qxf5,Qe7,Nc3,Bg7,Qxe4', 'Bxc3+,bxc3,Qxe4+', 'https://lichess.org/training/5IUsl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5IXaS', 'Rapid', 'Abu_Fahad_A', 1645, 'suraths', 1643, 'e4,e5,Nf3,Nc6,Bb5,f6,O-O,a6,Ba4,b5,Bb3,Bc5,c3,Nge7,d4,exd4,cxd4,Bb6,Be3,d5,e5,Nf5,Nc3,Be6,Ne2,g5,exf6,Qxf6,Ne5,Nxe5,dxe5,Qxe5,Bxb6,cxb6,Nd4,Qxd4,Re1,Kd7,Qe2,Rhe8,Rad1,Qc5,Qe5,g4,Bxd5,Bxd5,Rxd5+,Nd6,Qg7+,Kc6,Rxc5+,bxc5,Rxe8,Rxe8,h3,Re1+,Kh2,Ne4,Qxg4', 'Rh1+,Kxh1,Nxf2+,Kg1,Nxg4', 'https://lichess.org/training/5IXaS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5iYMS', 'Blitz', 'IM Ogloblin', 2543, 'dmarkanna', 2459, 'd4,e6,Nf3,f5,g3,Nf6,Bg2,Be7,O-O,O-O,c4,d6,Nc3,Ne4,Qc2,Nxc3,bxc3,Nc6,e4,e5,c5,f4,d5,Nb8,cxd6,cxd6,gxf4,exf4,e5,dxe5,Nxe5,Bd6,Nf3,Bg4,c4,Nd7,Bb2,Rc8,Rfe1,Bxf3,Bxf3,Qg5+,Kh1,Ne5,Rg1,Qh6,Bxe5,Bxe5,Rae1,Rfe8,c5,Qh3,Bg4,Qh4,Bxc8,f3,Rg3,Bxg3,Rxe8+,Kf7,Qf5+,Kxe8,fxg3,Qd4,Qxf3,Qxc5,Bxb7,Qc1+,Kg2,Qb2+,Kh3,Qxb7,Qe4+,Qe7,Qxh7,Qd7+,Kh4', 'g5+,Kxg5,Qxh7', 'https://lichess.org/training/5iYMS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5IzPB', 'Classical', 'timandre', 1792, 'medo-mega', 1858, 'e4,c5,Bc4,e6,Nc3,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bb5,Bd7,O-O,Be7,Bg5,O-O,Re1,a6,Ba4,Rc8,f4,Qb6,Bxc6,Bxc6,e5,dxe5,fxe5,Bc5,exf6,Bxd4+,Kh1,g6,Ne2,Rfd8,Nxd4,Rxd4,Be3,Bxg2+,Kxg2,Qc6+,Qf3,Qxc2+,Re2,Qc5,Bxd4,Qxd4,Rf1,b5,Qe4,Qc5,Qh4,Qd5+,Rf3,h5,Qf4,Kh7,Qd2,Qxa2,Qd7,Rf8,Qe7,Kg8,Rg3,Qd5+,Rf3,Qc4,Rd2,Qg4+,Rg3,Qe4+,Kh3,Qf5+,Kg2,Qe4+,Rf3,Qg4+,Kf2,Qh4+,Ke2,Qxh2+,Kd1,Qh1+,Kc2,Qxf3', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/5IzPB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5J9G7', 'Rapid', 'DooderMoodere', 2080, 'Gino89', 2048, 'd4,g6,Nf3,Bg7,c4,d6,Nc3,Nf6,Bg5,Nbd7,e3,O-O,Be2,e5,d5,h6,Bh4,g5,Bg3,Nc5,O-O,Bg4,Qc2,e4,h3', 'exf3,hxg4,fxe2', 'https://lichess.org/training/5J9G7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5jbOv', 'Rapid', 'pedrompedrosa', 1657, 'stockfish2011', 1656, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,h6,e5,Ng8,e6,fxe6,Be2,Nf6,O-O,d5,Bf4,Bd6,Be5,Bxe5,Qxe5,O-O,Bd3,Bd7,Nb5,Bxb5,Bxb5,Qe7,Rac1,c5,a3,c4,b3,a6,Ba4,b5,bxc4,bxa4,cxd5,Nxd5,c4,Nf6,c5,Nd7,Qd6,Qxd6,cxd6,Rf5,Rc7,Nf6,d7,Rd5,Rc8+,Kh7,Rxa8,Rxd7,Rxa6,Rd4,Rxe6,Ng4,f3,Nf6,g4,Rd3,g5,hxg5,Rfe1,Rxa3,R6e3,Ra2,f4,gxf4,Rh3+,Kg6,Rh4,f3,Rf1,Rg2+,Kh1,a3,Rh3,a2,Rhxf3,Rb2,Rg3+,Kh7,Rg2', 'Rb1,Rxa2,Rxf1+', 'https://lichess.org/training/5jbOv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5JDt4', 'Rapid', 'mammad70', 1740, 'Den19987', 1604, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,h6,O-O,d6,d3,Nf6,h3,O-O,a3,a6,Re1,Bd7,Be3,Bxe3,Rxe3,Nd4,Nd5,Nxd5,Bxd5,c6,Bb3,Nxb3,cxb3,f5,exf5,Bxf5,d4,e4,Nd2,d5,f3,exf3,Nxf3,Be4,Qe2,Qf6,Rf1,Bxf3,Rexf3,Qxd4+,Kh1,Rae8', 'Rxf8+,Rxf8,Qe6+', 'https://lichess.org/training/5JDt4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5jf2Z', 'Rapid', 'stverdyy', 1755, 'ScratchinMagician', 1716, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Qe2,d5,Bb5+,Nc6,Nxe5,Bd7,Nxd7,Kxd7,Qg4+,Ke8,O-O,Be7,c4,Kf8,Nc3,Nf6,Qf3,Nd4,Qd3,Nxb5,Nxb5,c6,Nc3,dxc4,Qxc4,g6,d4,Kg7,Bg5,Re8,Rfe1,Nd5,Bxe7,Rxe7,Qc5,Rxe1+,Rxe1,Nf4,Qe5+,Qf6,Qc7,Qxd4,Re7,Rf8,Qxb7,Nd5,Rd7,Qe5,h3,Qe1+,Kh2,Nxc3,bxc3,Qxf2,Qxc6,Re8,Qd5', 'Qf4+,g3,Re2+', 'https://lichess.org/training/5jf2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5JH7Q', 'Classical', 'Odysseus37', 2216, 'kvmchess', 2117, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,g6,Be2,Bg7,O-O,O-O,a3,Nf6,c4,Bg4,Nc3,Nbd7,h3,Bxf3,Bxf3,Rb8,Bf4,Re8,Re1,a6,Rc1,Nb6,b3,Qd7,Be5,Nc8,Nd5,Nxd5,cxd5,Nd6,Bg4,f5,Bf3,Rbc8,Qe2,Bh6,Rc5,Nf7,h4,Bf8,Rc3,Nd6,g4,e6,dxe6,Qxe6,Re3,Red8,Bf4,Qf7,Re5,fxg4', 'Bd5,Qxd5,Rxd5', 'https://lichess.org/training/5JH7Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5JK1k', 'Blitz', 'Mohammadranjbar', 2366, 'NM Horobetz', 2554, 'e3,e5,d4,exd4,exd4,d5,c4,Nf6,Nc3,Be7,Nf3,O-O,cxd5,Nxd5,Bc4,Nb6,Bb3,Nc6,O-O,Bf6,Be3,Na5,h3,Nxb3,Qxb3,Be6,d5,Nxd5,Qxb7,Nxc3,bxc3,Bd5,Qb4,Bxf3,gxf3,Qd3,Rac1,Rfd8,Rfd1,Qe2,Rxd8+,Rxd8,Kg2,h6,Bxa7,Qxa2,Be3,Rd3,Qe4,Rxc3,Rd1,Qc4,Qf5,Rxe3,fxe3', 'Qe2+,Kg3,Qxd1', 'https://lichess.org/training/5JK1k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5jkdw', 'Blitz', 'NM chessninja48', 2440, 'GM JacobAagaard', 2587, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,e6,e3,Nbd7,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,a6,a4,b4,Ne4,Nxe4,Bxe4,Nf6,Bd3,c5,b3,cxd4,Nxd4,Bd6,Bb2,O-O,Qe2,Qa5,h3,Rfd8,Rad1,Qe5,f4,Qc5,Bc4,Ne4,f5,Qe5,Rf4,Ng3,Qf2,Nxf5,Nxe6,Qxe3,Nxd8,Bxf4,Nxb7', 'Bh2+,Kf1,Ng3+', 'https://lichess.org/training/5jkdw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5jKH0', 'Blitz', 'NM PerpetualChess', 2250, 'bcp2001', 2286, 'e4,c5,Nf3,d6,Bb5+,Bd7,c4,Nf6,Nc3,e6,O-O,Be7,d4,cxd4,Nxd4,O-O,Re1,a6,Bxd7,Nbxd7,b3,Rc8,Bb2,h6,f4,Qa5,Rc1,Rfe8,Kh1,Bf8,Qf3,Qh5,Na4,Qxf3,Nxf3,b5,cxb5,axb5,Nc3,b4,Na4,Nc5,Nxc5,Rxc5,Bxf6,gxf6,Rxc5,dxc5,Nd2,Ra8,Ra1,f5,exf5,Bg7,Rc1,Rxa2,Ne4,exf5,Nxc5,Bd4,Nd3,Bc3,h3,h5,Kg1,h4,Kf1,Rd2,Nc5,Bd4,Na6,Rf2+,Ke1,Rxg2,Nxb4', 'Rg1+,Kd2,Be3+,Kxe3,Rxc1', 'https://lichess.org/training/5jKH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5JlFR', 'Blitz', 'Sinzari', 1561, 'boobieslingua', 1524, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,Bf4,e5,Bg5,exd4,Nd5,Be7,Qxd4,Nxd5,Bxe7,Nxe7,Qxg7,Rg8,Qxh7,Nbc6,O-O,Bd7,Bc4,Be6,Bxe6,fxe6,f4,Qd7,f5,O-O-O,f6,Rh8,Qg7,Rdg8,Rad1,Rxg7,fxg7,Rh7,Rf8+,Kc7,Rf7,Ne5,g8=Q,Nxg8,Rxd7+,Kxd7,h3,Rh4,Rd4,Nf6,Kh2,Rxe4,Rd2,b5,Rf2,Rd4,Rxf6,Rd2,Rh6,Rxc2,Rh7+,Kc6,Ra7,Rxb2,Rxa6+,Kc5,a3,Ra2,h4,Nc4,h5,Rxa3', 'Rxa3,Nxa3,h6,b4,h7,b3,h8=Q', 'https://lichess.org/training/5JlFR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5jPqn', 'Rapid', 'Kolyha', 1725, 'kasrarasouli', 1768, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,Bg4,Qxb7,Nbd7,Nb5,Rc8,Nxa7,Rb8,Qa6,Ra8,Bf4,Qb8,Bxc7,Qxc7,Nb5,Qa5+,Qxa5,Rxa5,b4,Ra4,a3,e5,c3,exd4,Nxd4,Nd5,Bb5,Ra7,c4,Nc3,Nc6,Nxb5,cxb5,Rb7,a4,Nb8,Ne5,Bxb4+,Kf1,Be6,Ngf3,O-O,g3,Bd5,Kg2,f6,Nd3,Bxf3+,Kxf3,Ba5,Nc5,Rc7,Ne6,Rc3+,Kg2,Re8,Nf4,Bc7,Nd5,Re2+,Kh3,Rc5,Nf4,Bxf4,gxf4,Rh5+,Kg3,Re3+,Kf2,Rhh3,Rae1,Rxe1,Kxe1,Rf3,Kd2,Rxf4,Re1,Kf7,a5,Ra4,a6,Rb4,a7,Ra4,b6,Nc6,Rc1,Rd4+', 'Ke3,Ra4,Rxc6', 'https://lichess.org/training/5jPqn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5jQHU', 'Blitz', 'FM Bulanov_Brest', 2379, 'WFM Tapson67', 2422, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Nce2,c5,c3,Nc6,f4,Qb6,Nf3,cxd4,cxd4,Bb4+,Bd2,f6,a3,Bxd2+,Qxd2,fxe5,dxe5,O-O,Ned4,Nc5,b4,Ne4,Qe3,Bd7,Bd3,Nxd4,Nxd4,Rxf4,Qxf4,Qxd4,Rd1,Qc3+,Ke2,Rf8,Qc1,Rf2+,Ke3,d4+,Kxe4', 'Bc6#', 'https://lichess.org/training/5jQHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5jr5S', 'Rapid', 'ziyad58', 1898, 'Dani-B', 1998, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bd3,Rc8,Ng5,h6,Nxf7,Kxf7,Qh5+,Ke7,Bg5+,hxg5,Qxg5+,Nf6,Bg6,cxd4,exf6+,gxf6,Qg3,Bh6,c4,Ne5', 'Qa3+,Rc5,Qxc5#', 'https://lichess.org/training/5jr5S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5JryJ', 'Blitz', 'Gojko77', 1670, 'fernandomarques3', 1705, 'e4,d5,exd5,c6,dxc6,Nxc6,Nc3,e5,Bb5,Nf6,Bxc6+,bxc6,Nge2,Be6,O-O,Bc5,a3,O-O,b4,Bb6,Kh1,c5,f4,exf4,Nxf4,Bg4,Qe1,cxb4,axb4,Re8,Qg3,Qd4,h3,Bh5,Nxh5,Nxh5,Qd3,Qh4,Rf3,Re1+,Kh2,Bc7+,g3,Nxg3,Qd5,Ne2+,Kg2,Nxc3', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/5JryJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Js2i', 'Blitz', 'Lango2020', 1546, 'TimmyD', 1628, 'd4,d5,c4,e6,a3,Nf6,Bg5,Be7,Nc3,h6,Bxf6,Bxf6,e3,dxc4,Bxc4,O-O,Bd3,Nc6,Nf3,Re8,Qc2,g6,O-O,e5,Nxe5,Nxe5,dxe5,Rxe5,Ne4,Bf5,Nxf6+,Qxf6,e4,Bh3,gxh3', 'Rg5+,Kh1,Qf3#', 'https://lichess.org/training/5Js2i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Js4d', 'Rapid', 'PhysicsGaming', 1794, 'ZVERUGER', 1735, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,d3,h6,Nc3,c6,a4,Qf6,g4,Bg6,h4,Ne7,g5,hxg5,Bxg5,Qxf3,Qxf3,f6,Be3,Bh5,Qg3,Nd7,d4,a6,dxe5,dxe5,f3,O-O-O,O-O-O,c5,Be6,Nc6,Bxd7+,Rxd7,Rxd7,Kxd7,Qf2,b6,Nd5,Nd4,Bxd4,cxd4,Nxb6+,Ke6,c3,dxc3,bxc3,Be7,Rd1,Rb8,c4,Be8,a5,Bb4,Qg2,Kf7,Nd7', 'Ba3+,Kc2,Rb2+,Kc3,Rxg2', 'https://lichess.org/training/5Js4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5jwIF', 'Blitz', 'the-broth', 2177, 'drahmedsalem', 2165, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,Na6,Bd3,Bg4,O-O,Nd7,Be3,c5,d5,Nb6,a3,e6,Kh1,exd5,cxd5,Re8,Bc2,Nc4,Bc1,Nc7,Qd3,b5,b3,Nb6,Bb2,c4,Qd1,cxb3,Bxb3,Bxc3,Bxc3,Rxe4,h3,Bf5,Nd4,Ncxd5,Nxf5,Nxc3,Qxd6,gxf5,Qh6,Qe7,Rac1,Ncd5,Rc6,Rc8,Rxb6,Nxb6,Qh5,Rd8,Qxf5,Re3,Ba2,Qe4', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/5jwIF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5jxgn', 'Rapid', 'Pavlikov', 1721, 'albe4to', 1643, 'e4,e5,Bc4,Nf6,d3,Nc6,Nc3,d6,Bg5,Be7,Nd5,Nxd5,Bxe7,Ncxe7,exd5,c6,dxc6,d5,cxb7,Bxb7,Bb5+,Nc6,Nf3', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/5jxgn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5JXWI', 'Classical', 'renecool', 1898, 'Jeffrey-Dahmer', 1968, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c3,Bg7,Be3,d6,f4,Nf6,Bd3,Ng4,Bd2,Nxd4,cxd4,Bxd4', 'Qa4+,Bd7,Qxd4', 'https://lichess.org/training/5JXWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5k22J', 'Rapid', 'beyaRoosh', 1866, 'Ivanov35', 2096, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,dxe5,fxe5,Nc6,Nf3,Bf5,Bd3,Nxd4,Nxd4,Qxd4,Bxf5,Qxe5+,Qe2,Qxf5,Be3,e6,Nd2,O-O-O,O-O-O,Qd3,Qf3,Nxc4,Nxc4,Qxc4+,Kb1,Bb4,Bxa7,Rxd1+,Rxd1,Rd8,Rxd8+,Kxd8,a3,Bd6,Qxf7,b6,Qg8+,Kd7,Qxh7,Qf1+,Ka2,Qxg2,Qg8,Bxh2,Qf7+,Kc6,Qe8+,Kb7,Qb8+,Kc6', 'Qa8+,Kd7,Qxg2', 'https://lichess.org/training/5k22J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5K2BH', 'Rapid', 'DragVik', 1874, 'Pawnstorm05', 1818, 'c4,e5,Nc3,Nc6,Nf3,f5,d3,Nf6,g3,Bb4,Bd2,O-O,Bg2,d6,O-O,Qe8,a3,Bxc3,Bxc3,Qh5,e3,Ng4,h3,Nf6,d4,f4,dxe5,dxe5,Nxe5,fxg3,fxg3,Qg5,Nxc6,Qxe3+,Kh2,bxc6,Bxf6,Rxf6,Rxf6,gxf6,Bxc6,Qf2+,Bg2,Bb7,Qg4+,Kh8,Rg1,Qxb2,Qf4,Bxg2,Rxg2,Qe5,Rf2,Qxf4,Rxf4,Kg7,Rd4,Kg6,Rd7,Rc8,g4,h5,Kg3,hxg4,hxg4,Rb8,Kf4,Rc8,c5,a5,c6,a4,Rd4,Ra8,Rb4,Ra7', 'Rb7,Ra5,Rxc7', 'https://lichess.org/training/5K2BH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5K5ay', 'Rapid', 'kasparov1891', 2418, 'ArabianChessFriends', 1815, 'e4,b6,d4,Bb7,Nc3,e6,a3,Nf6,Bd3,c5,Nf3,c4,Bxc4,Nxe4,Nxe4,Bxe4,O-O,Be7,Re1,Bxf3,Qxf3,d5,Bd3,Nd7,Bf4,O-O,c3,Nf6,g4,Nd7,Qh3,g6,Bh6,Re8,f4,Bf8,Bg5,Be7,Bh6,Bf8,g5,Bxh6,Qxh6,Nf8,h4,Qc7,Rf1,Re7,h5,a5,Rae1,b5,Bxb5,a4,Re2,Rb8,Bxa4,Qc4,Bd1,Qd3,hxg6,fxg6,Qh2,Rf7,f5,Rb6,f6,Qa6,Ref2,Qb7,Bg4,Qa6,Re1,Qd3,Qh3,Qa6,Qe3,Qc8,Qe5,Qb7,Rfe2,Qa6,Qg3,Qc4,Qh3,Qa2,Bxe6,Rxe6,Rxe6,Qxb2,Re8,Qd2,Qe3,Qc2,Qe6,Qa4,Qxf7+,Kxf7', 'R1e7+,Kg8,Rg7+,Kh8,Rxf8#', 'https://lichess.org/training/5K5ay');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5k6h6', 'Classical', 'PakAttack', 1667, 'telf', 1783, 'e4,e6,d4,d5,e5,Nc6,Nf3,Bb4+,c3,Ba5,Bb5,Bd7,O-O,a6,Ba4,Nge7,Re1,O-O,Bc2,Ng6,Bg5,f6,exf6,gxf6,Bh6,Rf7,h3,Nce7,Nh2,Nf5,Bxf5,exf5,Nd2,c6,Ndf3,Bc7,Nf1,Bd6,Qc1,Qc7,Ne3,Bf4,Bxf4,Qxf4,Qc2,Nh4,Nxh4,Qxh4,Nxf5,Bxf5,Qxf5,Kh8,Re6,Rg8,Rae1,Rg5,Qf3,Rg6,Re7,Kg7,Kh2,Qg5,Qg3,h5,Rc7', 'Qxg3+,fxg3,Rxc7', 'https://lichess.org/training/5k6h6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5kA7o', 'Classical', 'Valic', 1747, 'azerman29', 1741, 'd4,d5,c4,e6,e3,Nf6,Nf3,c6,a3,Nbd7,b4,Be7,Bb2,b6,Nc3,Ba6,Qb3,Rc8,b5,cxb5,cxb5,Bb7,Bd3,O-O,O-O,Bd6,a4,Nb8,Ba3,a6,Bxd6,Qxd6,Ne5,Rc7,Ne2,Rfc8,Rfd1,a5,h3,Nbd7,Nxd7,Nxd7,Rac1,e5,Rxc7,Rxc7,dxe5,Nxe5,Rc1,Rxc1+,Nxc1,d4,exd4,Qxd4,Bf1,Bd5,Qc2,h6,Ne2,Qe4,Qc8+,Kh7,Nc3,Qd4,Nxd5,Qxd5,Qc2+,g6,Be2,Nd7,Bf3,Qd4,Qe4,Qxe4,Bxe4,Nc5,Bc2,Kg7,Kf1,Kf6,Ke2,Ke5,Ke3,f5,f4+,Kd5,g4,Kc4,gxf5,gxf5,Bxf5,Nxa4,Be6+,Kxb5', 'Bd7+,Kc5,Bxa4', 'https://lichess.org/training/5kA7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5kaW9', 'Blitz', 'mcrob23', 1945, 'Nikoletina', 1944, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,a6,c3,b5,Bb3,h5,d4,c4,Bc2,Nf6,d5,Na7,e5,Nxd5,Ng5,Bb7,f4,Qb6+,Kh1,Ne3,Bxe3,Qxe3,f5,Qxg5,Rf2,Bc5,fxe6,Bxf2', 'Qxd7+,Kf8,Qxf7#', 'https://lichess.org/training/5kaW9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5KClq', 'Bullet', 'Muhadib', 2063, 'MishaaTal', 2188, 'e4,Nc6,Nf3,d6,d4,Nf6,Nc3,g6,h3,Bg7,Be3,O-O,Be2,a6,Qd2,b5,a3,Bb7,O-O-O,b4,axb4,Nxb4,e5,c5,exf6,Qa5,fxg7', 'Qa1+,Nb1,Na2#', 'https://lichess.org/training/5KClq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ke1g', 'Rapid', 'M3trixs', 1780, 'wernbeck', 1879, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nf3,Nc6,O-O,b5,a3,Bb7,Bg5,Be7,Bxf6,Bxf6,Nd5,O-O,c4,Nd4,Nxd4,Bxd5,exd5,exd4,cxb5,axb5,Bxb5,Qb6,Qd3,Rfb8,a4,Qa5,Rfb1,Qb4,Ra3,Ra7,Rb3,Qa5,Ra1,Re7,Qd1,Reb7,Qe1,Qa7,Re3,g6,Re8+,Rxe8,Qxe8+,Kg7,Qc6,Rb6,Qc4,Rb8,b4,h6,Ra3,Qe7,Ra1,Qe4,Qe2', 'Qxe2,Bxe2,d3,Bxd3,Bxa1', 'https://lichess.org/training/5ke1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5kfIT', 'Classical', 'Abd_Elrahman_Esam', 1847, 'ahmed-ana', 1853, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,b4,Nd5,Nxe4,Nxb4,e5,Nf3,Qb6,Nd5', 'Qxf2#', 'https://lichess.org/training/5kfIT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5kg1f', 'Blitz', 'Arsisa', 1542, 'Nachtwaechter', 1636, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d6,c3,h6,Nbd2,Be7,h3,Be6,Bxe6,fxe6,O-O,Qd7,Re1,O-O-O,b4,a6,a4,d5,exd5,exd5,Nxe5,Nxe5,Rxe5,Bd6,Re1,Qf5,Nf3,Rdf8,b5,Ne4,dxe4,dxe4,Nh2,Qxf2+,Kh1,Qg3,Ng4,h5,Re3,Qf4,Rd3', 'Qf1+,Qxf1,Rxf1#', 'https://lichess.org/training/5kg1f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5kKcs', 'Rapid', 'Shazwan05', 1777, 'Hongenchow', 1616, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,Bb7,f3,Nbd7,Nf5,g6,Ne3,Bg7,Ncd5,O-O,h4,Rc8,g4,Nxd5,Nxd5,Bxd5,Bxd5,e6,Bb3,Ne5,h5,Nc4,c3,Qb6,Qe2,d5,g5,Rfe8,hxg6,fxg6,Qh2,Rc7,Qxh7+,Kf8,Bf4', 'Bxc3+,bxc3,Rxh7', 'https://lichess.org/training/5kKcs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5kl70', 'Rapid', 'Meruem_sama', 2011, 'Caspabranco', 1818, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,e6,O-O,a6,Qe2,Bd7,Re1,Be7,Rd1,Nf6,Bf4,e5,Be3,O-O,h3,b5,Bd3,h6,Rac1,Rc8,Bb1,Be6,Nd5,Bxd5,exd5,Na5,Rxc8,Qxc8,b3,Nb7,g4,Nh7,Qd3,Nf6,Qe2,Nh7,Rc1,Qd8,Qc2,Nf6,Nh4,Nc5,Bxc5,dxc5,Nf5,Bd6,h4,g6,Nxh6+,Kg7,g5,Nxd5,Rd1,Nf4,Qe4,Qd7,Bd3,Qh3,Bf1,Qxh4,Qf5,Be7', 'Qxe5+,Kh7,Qxe7', 'https://lichess.org/training/5kl70');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Km6x', 'Rapid', 'mahen', 1994, 'Awangkas_3552', 1884, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,c5,Nb3,a6,Be3,Be7,Qe2,b5,O-O-O,Bb7,Nxc5,Qc7,Nxb7,Qxb7,f3,b4,Nd5,Nxd5,Rxd5,O-O,Qf2,a5,Bc4,Rc8,Rb5,Qc6,b3,a4,Rb6,Qc7,Bd5,Ra6,Rxa6,Nxa6,Bd4,Bh4,g3,Bg5+,f4,Be7,Kb1,axb3,Bxb3,Nc5,Bxc5,dxc5,Bc4,Qc6,Qe2,Rd8,Bd5,Qb6,Qc4,Qf6,e5,Qg6,Rf1,Qh5,h4,Qg6,Rf3,Kf8,Kb2,Qg4,Rd3,f6,Bg8,Qg6,f5,Qe8,Rxd8,Bxd8,Bxh7,Qxe5+,Kb3,Qxg3+,Ka4,Qd6', 'Qg8+,Ke7,Qxg7+,Ke8,Bg6#', 'https://lichess.org/training/5Km6x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5KnxA', 'Blitz', 'Asinhar', 1578, 'ferreis', 1580, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,Bg4,d4,cxd4,Qxd4,Bxf3,gxf3,Nf6,Bg5,e6,Nc3,Be7,Rad1,O-O,Kh1,Ne5,Rg1,Nxf3,Bh6,Nxd4,Bxg7,Nf3', 'Bxf6+,Ng5,Rxg5#', 'https://lichess.org/training/5KnxA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5kOrv', 'Classical', 'alharris', 1690, 'Petr42', 1822, 'e4,e5,f4,Nc6,Nf3,exf4,Bb5,Bc5,c3,Ne5,d4,Nxf3+,Qxf3,Qh4+,g3,fxg3,hxg3,Qe7,dxc5,Qxc5,Rf1,Nf6,Bd3,d6,Be3,Qa5,Nd2,Bg4,Qf4,O-O-O,Nc4,Qa6,Nb6+,axb6,Bxa6,bxa6,e5,dxe5,Qc4,Kb7,Qxf7,Rd7,Qb3,Rhd8,a4,Rd3,Kf2', 'Ne4+,Kg1,Rxe3', 'https://lichess.org/training/5kOrv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5kOUs', 'Classical', 'Gundula777', 1655, 'GabrieldeJesus', 1606, 'e4,e5,f4,exf4,Nf3,Nc6,d4,d6,Bc4,Bg4,O-O,Bxf3,Qxf3,Qd7,Bxf4,Nxd4,Qf2,Nc6,Be3,Nf6,Bg5,Be7,Nc3,O-O-O,Nd5,Nxd5,Bxe7,Ndxe7,Qxf7,Rhf8,Qxg7,Rh8,Qc3,Kb8,Qb3,Qg4,Ba6,b6,Qd3,Rhg8,Rf2,Rdf8,Raf1,Rxf2,Rxf2,Nb4,Qc4,Qd1+,Rf1,Qxc2', 'Qxg8+,Nxg8,Rf8#', 'https://lichess.org/training/5kOUs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5KXnf', 'Rapid', 'DrF9Devil', 1686, 'chandrashekharv', 1630, 'Nf3,c5,e4,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Bb5+,Bd7,Bxd7+,Qxd7,Nc3,e5,Qc4,Nf6,Qd3,Be7,f3,a6,a3,O-O,O-O,Rac8,Be3,Nh5,Rfe1,f5,Rad1,f4,Bf2,Rf6,Nd5,Rg6,Kh1,Nf6,Nb6,Qc6,Qb3+,Kf8,Nxc8,Qxc8,Rd2,Nd7,a4,Nc5,Qa2,Bd8,Red1,Bc7,Bxc5,dxc5,Qc4,Bb6,Rd7,Qe8,Rxb7,Qe6,Rdd7,Qxc4', 'Rb8+,Bd8,Rbxd8#', 'https://lichess.org/training/5KXnf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5l79n', 'Rapid', 'abuSa3eed', 1912, 'saeid_200853', 1905, 'd4,e6,c4,Nf6,Nc3,Bb4,Bg5,c5,Bxf6,Qxf6,e3,cxd4,exd4,Nc6,Nf3,O-O,Rc1,Re8,Be2,b6,O-O,Bb7,Nb5,Red8,a3,Bf8,d5,exd5,cxd5,Ne7,d6,Nf5,Rc7,Bc6,Nxa7,Rxa7,Rxa7,Bxd6,b4,Bb8,Ra6,Bb7,Ra4,Qg6,b5,Nh4,Rxh4,Qf5,a4,d5,Nd4,Qg5,Rg4,Qh6,g3,Bc8,Rh4,Qf6,Bg4,Bb7,Qd3,g6,Bf3,Rc8,Bg2,Rc4,Rd1,Be5,Nc6,Bxc6,bxc6,Rxh4,gxh4,Qxc6,Bxd5,Qc7,Qf3,Bxh2+,Kh1,Be5,Bxf7+,Qxf7,Rd8+,Kg7,Qa8,Kh6,Qd5,Bf6,Qd2+,Kg7,Rd7,Be7,Qe3,Kf8,Qxb6', 'Qf3+,Kg1,Qg4+', 'https://lichess.org/training/5l79n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5l7mH', 'Blitz', 'ivek', 1671, 'nevermor3', 1637, 'd4,g6,e4,Bg7,Nf3,e6,Nc3,f6,Bd3,Ne7,Be3,O-O,Qd2,c6,h4,d5,Bh6,dxe4,Bxe4,f5,Bd3,Nd7,Bxg7,Kxg7,h5,Rh8,hxg6,hxg6,O-O-O,b5,Rxh8,Qxh8,Ng5,Nf6,Re1,Qg8,Ne2,Ne8,Nf4,Nc7,Qb4,Kf6,Nf3,Ncd5,Nxd5+,cxd5,Qxb5,Qh8,Qc5,Bb7,Qd6,Bc8,Ne5,Qh6+,Kb1,Qd2,Nf3,Qxf2,Qe5+,Kf7,Ng5+,Ke8,Qh8+,Kd7,Bb5+,Nc6,Rxe6', 'Qg1+,Bf1,Qxf1+,Re1,Qxe1#', 'https://lichess.org/training/5l7mH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5la7F', 'Classical', 'Marco2005', 1737, 'Leo1706', 1605, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c5,cxd5,Nxd5,Nxd5,Qxd5,e3,Nc6,Bb5,a6,Bxc6+,Qxc6,O-O,Be7,Bd2,O-O,Rc1,b6,b4,Qd7,bxc5,bxc5,dxc5,Qc6,Qc2,Rd8,Bb4,Bb7,Rfd1,g5,Rxd8+,Rxd8,h3,h5,Qc4,Qc7,Nd4,Bd5,Qxa6,Ra8,Qb6', 'Qxb6,cxb6,Bxb4', 'https://lichess.org/training/5la7F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5lbbj', 'Rapid', 'noviaz', 1682, 'WHiMLeY', 1692, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,Nf6,d5,exd5,exd5,Nd4,O-O,d6,Nxd4,cxd4,Qxd4,Be7,Nd2,O-O,Nf3,Qa5,a3,b5,b4,Qc7,Bb3,Nd7,Bb2', 'Bf6,Qd3,Bxb2', 'https://lichess.org/training/5lbbj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5lboQ', 'Rapid', 'Parbulele2', 1840, 'Jamlly1324', 1998, 'd4,c6,Nf3,d5,a4,Bf5,e3,e6,c4,dxc4,Bxc4,Nf6,Nc3,Bb4,O-O,O-O,Qb3,a5,h3,Nbd7,Na2,Bd6,Re1,Rb8,Nc3,Ne4,Nxe4,Bxe4,Bxe6,fxe6', 'Qxe6+,Kh8,Qxe4', 'https://lichess.org/training/5lboQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5LDmP', 'Blitz', 'IM Belezky', 2385, 'No_Move_Left', 2494, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d3,c6,c3,d5,Nbd2,Bg4,Qc2,Bxf3,exf3,Nbd7,f4,e6,Nf3,a5,Re1,Qc7,Be3,b5,h3,Nb6,g4,c5,d4,Nfd7,Ne5,Nc4,Nxc4,bxc4,f5,cxd4,cxd4,Rab8,fxe6,fxe6,Rad1,Qc6,Rd2,a4,Rde2,Rbe8,a3,Nb8,Qd2,Na6,Bh6,Nc7,Bxg7,Kxg7,g5,Rb8,h4,Rb3,h5,Qd6,Re3,Qf4,R3e2,Qxd2,Rxd2,gxh5,Kh2,Rfb8,Ree2,Kg6,f4,R8b6,Bh3,Rf3,Rf2,Rxf2+,Rxf2,Kf7,f5,exf5,Bxf5,Kg7,Re2,Kf8,Bxh7,Ne8,g6,Ng7,Rf2+,Ke8,Rf7,Ne6,Rf6,Rxb2+,Kg3,Ke7,Rf7+,Kd6,Bg8,Rb3+,Kh4,Rd3', 'Rf6,Ke7,Rxe6+', 'https://lichess.org/training/5LDmP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Lhgp', 'Classical', 'fer95', 1702, 'hegedabegeda', 1637, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,e6,Ng3,c5,Nf3,Nc6,Be3,b6,Bb5,Bb7,O-O,Bd6,dxc5,Bxc5,Bxc5,bxc5,Ne5,Qc7,Re1,Ne7,Nxc6,Nxc6,Qe2,O-O,Rad1,a6,Bd3,Nd4,Qh5,g6,Qg4,Qc6,Nh5,f5,Qg5,Nf3+,gxf3,Qxf3,Be4,Qxh5', 'Qxh5,gxh5,Bxb7', 'https://lichess.org/training/5Lhgp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5lhvA', 'Rapid', 'DCsupergirl', 2139, 'czechchess', 2209, 'Nf3,d5,d4,Nf6,c4,e6,g3,b6,cxd5,exd5,Bg2,Bb7,Nc3,Nbd7,O-O,Be7,Bf4,a6,Rc1,Rc8,Ne5,c6,e4,dxe4,Nxe4,Nxe4,Bxe4,Nxe5,dxe5,O-O,Qxd8,Rfxd8,Bf5,Ra8,Be4,Rac8,Be3,b5,Rfd1,g6,Bb6,Re8,Rd7,Ba8,Ra7,Bd8,Bd4,f6,Rxa6,fxe5,Be3,Re6,Bc2,Kg7,Bb3,Rd6,Ra7+,Kh8,Bh6,Bc7,Bf8,Rxf8,Rxc7,Rd2,Rf7,Rxf7,Bxf7,Kg7,Bb3,Rxb2,h4,h5,Rc5,Kf6,Kg2,Rd2,Kf3,Rd4,Ke3,Bb7,Rc2,Ke7,f4,Kd6', 'fxe5+,Kxe5,Rc5+,Rd5,Bxd5', 'https://lichess.org/training/5lhvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5LiC5', 'Rapid', 'ummmwhatever', 1848, 'Anton_Krivi', 1673, 'e4,e5,Nc3,Nc6,Nf3,d6,d4,Bg4,dxe5,Nxe5,Be2,Nf6,Nxe5,Bxe2,Qxe2,dxe5,O-O,Bd6,Bg5,h6,Bh4,g5,Bg3,Qe7,Rad1,O-O-O,Nb5,Kb8,f3,Bc5+,Bf2,Rxd1,Rxd1,Bxf2+,Qxf2,b6,c4,g4,Nc3,gxf3,Qxf3,Qc5+,Kh1,Qe7,Rf1,Nd7,Nd5,Qc5,Qxf7,Rf8,Qxf8+,Nxf8,b3,c6,Nf6,Kb7,Rd1,Ka6,h3,Ne6,Nd7,Qa5,Rd6,Qxa2,Rxe6,Qxb3,Rxc6,Qe3,Kh2,Qxe4', 'Nc5+,Ka5,Nxe4', 'https://lichess.org/training/5LiC5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5lNmX', 'Blitz', 'NM ChessByJason-org', 2516, 'rumiek', 2398, 'Nf3,Nf6,g3,d5,Bg2,c6,O-O,g6,b3,Bg7,Bb2,O-O,d3,a5,a3,a4,b4,b5,Nbd2,Re8,c4,Nbd7,Ne5,Nxe5,Bxe5,Bg4,h3,Be6,c5,Bc8,d4,Ra7,e3,Nh5,Bxg7,Nxg7,f4,Bf5,g4,Bd3,Rf2,f5,Nf3,Be4,Ne5,Rc7,h4,e6,Bxe4,fxe4,Rh2,Rf8,Qe2,Qe8,h5,gxh5,g5,Nf5,Kf2,h4,Rg1,Rg7,Qg4,Kh8,Rxh4,Nxh4,Qxh4,Rf5,Rh1,Rxe5,dxe5,Qd8,Qh6,d4,Qf6,dxe3+,Kg3,Qd2,Qf8+,Rg8,Rxh7+,Kxh7', 'Qh6#', 'https://lichess.org/training/5lNmX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5lnod', 'Rapid', 'Silkthewanderer', 2194, 'AndreCMorais', 1994, 'e4,c6,d3,d5,Nd2,e5,Ngf3,Bd6,d4,exd4,exd5,Nf6,dxc6,Nxc6,Nb3,O-O,Nbxd4,Re8+,Be2,Nxd4,Qxd4,Bf5,Be3,Bxc2,O-O,h6,Rac1,Bg6,Rfd1,Bf8,Qxd8,Raxd8,Rxd8,Rxd8,Bxa7,Ra8,Bd4,Rxa2,h3,Bd6,Ne5,Ra4,Nxg6,Rxd4,Rc8+,Kh7,Nf8+,Kh8', 'Ne6+,Kh7,Nxd4', 'https://lichess.org/training/5lnod');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5loIk', 'Blitz', 'Artem_2005', 2258, 'CM Floman', 2319, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,d4,Bd6,Re1,Ra7,g3,Re7,Nd2,Rfe8,Rxe7,Qxe7,Nf1,Bh3,Ne3,Qe4,Bc2', 'Nxe3,Bxe4,Nxd1', 'https://lichess.org/training/5loIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5lP4V', 'Rapid', 'mp2040', 1615, 'Sever-NNov', 1708, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Qf3,Be6,Nd2,a6,Nh3,Qf6', 'Bxd5,Bxd5,Qxd5', 'https://lichess.org/training/5lP4V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5LR4c', 'Rapid', 'xxxLUCASxxx', 1959, 'petr_kurlik', 1939, 'e4,d6,Nf3,Bg4,Be2,Bxf3,Bxf3,c6,d4,Nd7,c3,e6,Nd2,Be7,O-O,h6,Re1,Ngf6,Nf1,O-O,Ng3,Nh7,Qb3,b5,a4,a6,Be3,Bg5,axb5,axb5,Rxa8,Qxa8,c4,Bxe3,Rxe3,bxc4,Qxc4,Qa1+,Nf1,Qxb2,Qxc6,Ndf6,Qxd6,Ng5,Qa3,Nxf3+,gxf3,Qb6,Qc5,Qb1,Kg2,Ra8,d5,exd5,exd5,Ra1,Ng3,Qg1+,Kh3,Nh5,Re8+,Kh7,Nxh5,Ra2,Rh8+,Kxh8,Qf8+,Kh7,Qxf7,Rxf2', 'Nf6+,Kh8,Qe8#', 'https://lichess.org/training/5LR4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5lt2W', 'Rapid', 'Evgeni_Melnikov', 1774, 'Voroshilov', 1708, 'e4,d6,d4,g6,Nf3,Bg4,Be2,Bg7,h3,Bd7,Nc3,c6,Be3,Nf6,Qd2,O-O,Bc4,Na6,g4,Be6,Bxe6,fxe6,Ng5,Qd7,O-O-O,h6,Nf3,Nxe4,Nxe4,Rxf3,Bxh6,c5,Bxg7,Kxg7,h4,Qa4,a3,Nb4,Nc3', 'Rxc3,Qxc3,Na2+,Kb1,Nxc3+', 'https://lichess.org/training/5lt2W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5lTJR', 'Rapid', 'Olawalex', 1682, 'savateur', 1693, 'c4,f5,Nc3,Nf6,g3,d6,Bg2,e5,e4,g6,d3,Bg7,Bg5,O-O,Nd5,c6,Ne3,h6,Bxf6,Bxf6,Ne2,Na6,O-O,Bg7,Qb3,Nc5,Qc2,g5,b4,f4,Nd1,f3,bxc5,fxg2,Kxg2,dxc5,Ne3,Be6,Rab1,Qd7,Ng1,h5,Qe2,h4,Qh5,Qe7,h3,Rf6,Qxg5', 'Rxf2+,Rxf2,Qxg5', 'https://lichess.org/training/5lTJR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5lvuA', 'Blitz', 'Jotaicast', 1880, 'jjagudelo', 2184, 'e4,c5,f4,a6,Nf3,Nc6,c3,e6,d4,d5,e5,cxd4,cxd4,Nge7,Nc3,Nf5,g4,Nh4,Be3,Nxf3+,Qxf3,Qb6,Rb1,Bb4,Bd3,Bd7,O-O,O-O-O,Qf2,Kb8,Na4,Qa7,a3,Be7,b4,Nxe5', 'dxe5,d4,Bxd4,Qxd4,Qxd4', 'https://lichess.org/training/5lvuA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Lw6U', 'Blitz', 'Amitkkk', 1959, 'Mayank--7', 2046, 'Nf3,c5,e4,Nc6,c4,g6,Nc3,Bg7,g3,Nd4,Bg2,d6,O-O,e6,Nxd4,Bxd4,d3,Ne7,Be3,Bg7,Bg5,h6,Be3,O-O,Rb1,Kh7,Ne2,e5,f4,f5,fxe5,dxe5,Qd2,f4,gxf4,exf4,Nxf4,Qc7,Nd5,Qd6,Rxf8,Bxf8,Rf1,Bg7,Rf7,Ng8,Bxh6,Nxh6,Nf6+,Kh8', 'Qxh6+,Bxh6,Rh7#', 'https://lichess.org/training/5Lw6U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5lWIG', 'Classical', 'USER4023', 1732, 'ibrahram', 1687, 'd4,c6,Bf4,d5,Qc1,Bf5,e3,Nf6,h3,Nbd7,Nf3,h6,c4,e6,c5,b6,b4,a5,bxa5,Rxa5,cxb6,Bb4+,Nbd2,Qxb6,Be2,Ne4,a3,Bxd2+,Nxd2,Nxd2,Qxd2,O-O,O-O,Rfa8,Bd6,Nf6,Bb4,Ra4,Bd1', 'Rxb4,Qxb4,Qxb4,axb4,Rxa1', 'https://lichess.org/training/5lWIG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5LwXJ', 'Rapid', 'Dd0mino2', 1880, 'Rilikva', 1830, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,c3,dxc3,O-O,d6,Qb3,Qd7,Nxc3,Na5,Qc2,Nxc4,Nd5,Nb6', 'Nxc7+,Kd8,Nxa8', 'https://lichess.org/training/5LwXJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5lY82', 'Rapid', 'diamond92', 1937, 'Tal404', 1925, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,Bf4,O-O,e3,Nbd7,Rc1,Nh5,Bg3,Nxg3,hxg3,e5,Bd3,Re8,dxe5,dxe5,Bb1,b6,Be4,Rb8,Bc6,e4,Bxe4', 'Bxc3+,Rxc3,Rxe4', 'https://lichess.org/training/5lY82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5M2K4', 'Rapid', 'Rahul007Real', 1645, 'm_ghiasi', 1625, 'd4,d5,e3,Nc6,a3,Bf5,h3,Nf6,Nf3,h6,Nc3,e6,Bd3,Bxd3,Qxd3,Qd7,b4,a6,b5,axb5,Nxb5,Na7,Nxa7,Rxa7,a4,Rxa4,Rb1,b6', 'Ne5,Qc8,Qb5+,Nd7,Qxa4', 'https://lichess.org/training/5M2K4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5MA4U', 'Blitz', 'WFM envy', 2343, 'bcow', 2391, 'd4,c5,d5,e5,e4,d6,Ne2,g6,h4,Bh6,Bxh6,Nxh6,h5,Bg4,hxg6,hxg6,Nd2,f6,a4,Na6,Nc4,Ke7,Qd3,Nf7,Rxh8,Qxh8,Qb3,Rb8,O-O-O,Qh2,f3,Bd7,Nc3,Nb4,Kb1,Qh8,Na3,a6,a5,Qd8,Nc4,Bb5,Nb6,Bxf1,Rxf1,Qh8,Qa4,Qe8,Qb3,f5,Rh1,Qg8,Qa4,Qe8,Qb3,Qg8,Nca4,Qg7,Nc4,Rh8,Rxh8,Qxh8,Qe3,Qh1+,Qc1,Qxg2,exf5,gxf5,f4,Qxd5,Ncb6,Qe4,fxe5,Nxe5,Nc8+,Kd7,Nab6+,Kc6,Ne7+,Kb5,Qd2,Qxc2+,Qxc2,Nxc2,Kxc2,Kxa5,Ned5,f4,Nc8,f3,Kd2,Nc4+,Kd3,Nxb2+,Ke3,c4,Kxf3,b5,Ke3,Na4,Kd2,Nc5,Kc2,Ne4,Nde7,d5,Kb2,d4', 'Nc6+,Ka4,Nb6#', 'https://lichess.org/training/5MA4U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5MaBA', 'Blitz', 'iplaythemarshall', 1961, 'WSmirnov', 2125, 'd4,d5,c4,e6,Nc3,c5,cxd5,cxd4,Qa4+,Bd7,Qxd4,exd5,Qxd5,Nc6,Nf3,Nf6,Qd1,Bc5,e3,Qe7,Be2,O-O-O,O-O,g5,b4,g4,Nd4,Bxd4,exd4,Qxb4,Nb5,a6,Ba3,Qa5,Nd6+,Kb8,Rb1,Qxa3,Rxb7+,Ka8,Qb1,Qxd6,Qb6,Qa3,Rb1,Rb8,Bxa6,Nd5,Ra7+,Nxa7', 'Bb7+,Rxb7,Qxb7#', 'https://lichess.org/training/5MaBA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5MEv5', 'Blitz', 'Bruncvik', 1759, 'Moberich', 1741, 'e4,e6,d4,d5,exd5,exd5,Bf4,c6,Nf3,Bg4,Be2,Bd6,Bg3,Bxg3,hxg3,Ne7,c3,O-O,Nbd2,h6,Qc2,Bf5,Bd3,Bxd3,Qxd3,Ng6,O-O-O,Nd7,g4,Re8,g5,hxg5,Rh5,g4,Ng5,Nf6,Rh2,Qc7,Rdh1,Re7,Nh7,Nxh7,Rxh7,Rae8', 'Rh8+,Nxh8,Qh7+,Kf8,Qxh8#', 'https://lichess.org/training/5MEv5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5MFBl', 'Rapid', 'Alberto-Rubio', 2219, 'gargantum', 2120, 'e4,e5,f4,d5,exd5,e4,d3,Qxd5,Qe2,Nf6,Bd2,Be7,Nc3,exd3,Qxe7+,Kxe7,Nxd5+,Nxd5,Bxd3,Re8,O-O-O,Kf8,Nf3,Bg4,Rde1,Nc6,Ng5,h6,Ne4,Bf5,a3,Rad8,h3,Nd4,g4,Bxe4,Rxe4,Nf3,c4,Nxd2,Rxe8+,Rxe8,cxd5,Nb3+,Kc2,Nd4+,Kc3,Ne2+,Bxe2,Rxe2,Rd1,Ke7,Rd2,Rxd2,Kxd2,Kd6,Kd3,Kxd5,b4,b5,h4,g6,Ke3,f5,h5,gxh5,gxf5,h4,Kf3,h5,Kg2,c5', 'f6,c4,f7', 'https://lichess.org/training/5MFBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5mFs0', 'Rapid', 'naim2413', 2292, 'FAZLIDDIN1976', 2181, 'd4,Nf6,c4,d5,cxd5,Qxd5,Nc3,Qa5,Bd2,Nc6,e3,Bf5,a3,e6,b4,Nxb4,axb4,Qxb4,Nf3,Qd6,Be2,Be7,Qb3,b6,Nb5,Qd7,Nxa7,O-O,Bb5,c6,Bxc6,Qxc6', 'Nxc6,Rxa1+,Ke2', 'https://lichess.org/training/5mFs0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5mg5H', 'Blitz', 'waltaoo', 1534, 'vladimir_s99', 1540, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nd2,Nf6,Bd3,e5,Nf3,g6,Bg5,Bg7,Bh4,O-O,O-O,Qb6,b3,Rd8,c4,Ba6,Qe2,Bb7,Rfd1,Re8,h3,Rad8,Kh1,d5,cxd5,cxd5,Nxe5,Rxe5,Qb2,d4,f3,Rd7,Bc4,Ba6,Rac1,Nh5,Bxa6,Qxa6,Rxd4,Rxd4,Qxd4,Nf4,Qd8+,Bf8,Bf6,Rc5,Rd1,Qe2', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/5mg5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5mGpr', 'Blitz', 'FM talk2uee', 2171, 'GM Dr-BassemAmin', 2633, 'e4,e5,Nc3,Nc6,Bc4,Bc5,d3,d6,Nge2,f5,O-O,f4,Na4,Nf6,Nxc5,dxc5,f3,Qe7,c3,Be6,Bxe6,Qxe6,d4,O-O-O,d5,Qf7,Qa4,Nb8,Qxa7,Qe7,a4,g5,a5,g4,c4,gxf3,Rxf3,Nxe4,a6,bxa6,Rb3,Kd7,Nxf4,exf4,Bxf4,Nd6,Qxc5,Rhf8,Re3,Qf6,Rf1,Rde8,Ref3,Rg8,Bxd6,Qxd6,Rf7+,Re7,Qe3,Rg7,Qh3+,Kd8,Rf8+,Re8,Rxe8+,Kxe8,Qc8+,Ke7,Qxb8,Qc5+,Kh1,Rf7,Rxf7+,Kxf7,h3,Qxc4,Qd8,Qc1+,Kh2,Qf4+,Kg1,Qe3+,Kf1,Qc1+,Ke2,Qxb2+,Kf3', 'Qf6+,Qxf6+,Kxf6', 'https://lichess.org/training/5mGpr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5mgtZ', 'Rapid', 'Piterskii_KMC', 2074, 'Neiron_set_01', 2257, 'g3,d5,Bg2,c6,Nf3,Nf6,d4,g6,O-O,Bg7,c4,O-O,Nc3,Re8,Ne5,dxc4,Nxc4,Be6,Ne5,Nbd7,f4,Rc8,e4,Qb6,f5,gxf5,exf5,Bd5,Nxd5,cxd5,Kh1,Red8,Bf4,Ne4,Bxe4,dxe4,Qb3,Qxb3,axb3,Nxe5,dxe5,a6,Rac1,b5,Kg2,h5,h3,Kh7,g4,hxg4,hxg4,a5,Rh1+,Kg8,Rhd1,e6,f6,Bf8,g5,Kh7,Kg3,Rd3+,Rxd3,Rxc1,Rd8,Rg1+,Kh2,Bc5,Rc8,Bd4,Rd8,Bf2,Rf8,Kg6,Rg8+,Kf5,Rg7,Kxf4,Rxf7,Rxg5,Rg7,Bc5,Rc7,Rxe5,f7,e3', 'Rxc5,Rxc5,f8=Q+', 'https://lichess.org/training/5mgtZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5mGYl', 'Rapid', 'Leopala', 2008, 'Key_of_Quip', 1966, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,h6,Bc4,e6,O-O,Nf6,Bf4,Nbd7,Re1,Be7,Bb3,Nb6,a4,g6,a5,Nbd5,Bg3,O-O,Ne4,Nxe4,Rxe4,Kh7,c4,Nf6,Re1,Bb4,Re2,Bxa5,d5,Bc7,dxe6,Qxd1+,Rxd1,Bxg3,hxg3,Bxe6,Nd4,Rad8,Red2,Bc8,f3,a6,Ba2,Ng8,b4,Ne7,g4,Ng8', 'Ne6,Bxe6,Rxd8,Rxd8,Rxd8', 'https://lichess.org/training/5mGYl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5MHQG', 'Rapid', 'Zoomzap21', 1937, 'Nooneknowsme', 2073, 'e4,e5,f4,Nc6,Nf3,f5,exf5,e4,Ne5,Nf6,d4,exd3,Qxd3,Bc5,Be3,Bxe3,Qxe3,O-O,Bc4+,d5,Bb3,Bxf5,O-O,Kh8,Nd2,Qd6,Ndf3,Rae8,Rad1,Be4,Nxc6,bxc6,Qxa7,Bxf3,Rxf3,Re2,Rf2,Rfe8,Rxe2,Rxe2,Qa8+,Re8,Qa4,Qc5+,Qd4,Qe7,a4,Ng4,h3', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/5MHQG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5MIIY', 'Rapid', 'wrongturn8', 1794, 'zibr', 1773, 'c3,d5,d4,Nf6,Nf3,Nc6,e3,Bg4,Be2,e6,h3,Bxf3,gxf3,Qd7,Qb3,O-O-O,Na3,a6,c4,Bb4+,Bd2,Bxd2+,Kxd2,Na5,Qc3,Nxc4+,Nxc4,dxc4,Bxc4,e5,Ke2,exd4,exd4,Nh5,Rac1,Nf4+,Kf1,Rhe8,h4,b5,Bb3,Ne2,Qc6,Qxc6,Rxc6,Nxd4,Rxa6,Nxb3,axb3,Rd2,Kg2,Rxb2', 'Ra8+,Kd7,Rd1+,Ke7,Re1+', 'https://lichess.org/training/5MIIY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5MJjx', 'Classical', 'baran1388', 1788, 'mulanga', 1793, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,c6,f4,O-O,e5,dxe5,fxe5,Ng4,Bf4,b5,Be2,Bg5,Bxg4,Bxg4', 'Qxg4,Qxd4,Qxg5', 'https://lichess.org/training/5MJjx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5mjng', 'Rapid', 'Markol1', 1860, 'adrianio02', 1836, 'e4,c6,c4,e6,d4,d5,exd5,exd5,cxd5,cxd5,Nc3,Nf6,Nf3,Bb4,a3,Bd6,Bd3,O-O,h3,Be6,O-O,Nc6,Re1,Qd7,Bg5,Nh5,Qc2,h6,Bd2,Bxh3,gxh3,Qxh3,Bh7+,Kh8,Qf5,Qxf5,Bxf5,g5,Nxd5,g4,Ne5,Bxe5,dxe5,Nd4,Bd3,Nf3+,Kg2,Nxd2,Rh1,Rad8,Rxh5,Rxd5,Rxh6+,Kg8,Rah1,Rxe5', 'Rh8+,Kg7,R1h7+,Kf6,Rxf8', 'https://lichess.org/training/5mjng');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5mL07', 'Classical', 'Abou_Abdo', 1745, 'shraddhajaincutie', 1867, 'e4,e5,Nf3,Nc6,Bb5,Bd6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,Qe7,Bg5,Be5,Qe3,Bxc3+,Qxc3,Qxe4+,Kf1,Qe6', 'Re1,O-O,Rxe6', 'https://lichess.org/training/5mL07');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5MN9a', 'Rapid', 'sakkariini', 1832, 'Eldesconocidopopular', 1890, 'e4,e5,Nc3,d6,Bc4,Nf6,d3,Be6,Nd5,c6,Nxf6+,Qxf6,Bb3,Be7,Nf3,Bg4,Bg5,Bxf3,Bxf6,Bxd1,Bxe7,Bxc2,Bxd6,Bxb3,axb3,f6,Bxb8,Rxb8,Rxa7,O-O,Ke2,Rfd8,Rd1,Rd4,Ra4,Rbd8,Rc4,Kf7,Ke3,Ke6,g3,R8d6,f4,exf4+,gxf4,Rxc4,bxc4,c5,d4,Rb6,d5+,Kd6,Rb1,Rb3+,Kf2,Rh3,e5+,fxe5,fxe5+,Kxe5,Kg2,Re3,Kf2,Re4,Re1,Rxe1,Kxe1,g5,Kf2,h5,Kf3,b6,h3,b5,b3,b4,Kg3,Kd6,Kf2,Ke5,Kf3,Kf5,d6', 'Ke6,d7,Kxd7', 'https://lichess.org/training/5MN9a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5MPLX', 'Blitz', 'M700700', 1589, 'Alimahmoudaligaber', 1591, 'e4,c5,Nf3,d6,Bc4,Nf6,h3,g6,O-O,Bg7,c3,Nc6,d4,cxd4,cxd4,O-O,d5,Ne5,Nxe5,dxe5,Bg5,Nxe4,Bh4,Bf6,Bxf6,exf6,f3,Nd6,Bb3,Bd7,f4,Qb6+,Kh1,Nf5,fxe5,Ng3+,Kh2,Nxf1+,Qxf1,fxe5,Nc3,Qd4,Rd1,Qf4+,Qxf4,exf4,Ne4,f5,d6+,Kg7,Nc5,Bc6,Ne6+,Kf6,Nxf8,Rxf8,d7,Rd8,Rd6+,Ke7,Re6+,Kf8,Rf6+,Ke7,Rf7+,Kd6,Rxh7,Rxd7,Rxd7+,Bxd7,Bf7,Ke5,Bxg6,b5,a3,a5,Kg1,b4,axb4,axb4,Kf2,Kd4,Ke2,Kc4,Kd2,Kb3,Kc1,Be6', 'h4,Kc4,h5,Kd4,h6', 'https://lichess.org/training/5MPLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5mr3v', 'Rapid', 'Artem_Attack_Chess', 1802, 'drRiss', 1746, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,Bb4,Bd3,d6,Bd2,Bg4,h3,Bh5,g4,Bg6,Qe2,h6,Nh4,Nd4,Qe3,Bc5,Qg3,Bh7,g5,hxg5,Qxg5,Bg6,O-O-O,Rh5,Qg3,Qa5,Nxg6,Bb4,Nb1,Nxe4,Bxe4', 'Ne2#', 'https://lichess.org/training/5mr3v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5MtnB', 'Rapid', 'NM Ginger64', 2248, 'perisai-diri', 1978, 'Nf3,Nc6,d4,e6,e4,d5,e5,Nge7,Bd3,Ng6,O-O,Be7,c3,O-O,b4,a6,Nbd2,Nf4,Bc2,f6,exf6,Bxf6,Nb3,e5,dxe5,Bxe5,Nxe5,Nxe5,Qd4,Qg5,Bxf4,Rxf4,Qxd5+,Kh8,Rad1,Bh3,g3,Bxf1,Kxf1,Rf6', 'Qd8+,Rf8,Qxg5', 'https://lichess.org/training/5MtnB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5mUVP', 'Blitz', 'TweetyBirdy', 1781, 'JayrilRamos', 2085, 'd4,c5,d5,e6,c4,b5,cxb5,Nf6,Nc3,Bb7,e4,d6,f3,Be7,Bc4,e5,Nge2,Nbd7,O-O,Nb6,Bd3,O-O,a4,a5,bxa6,Bxa6,Nb5,c4,Bc2,Bxb5,axb5,Rxa1,Qd2,Ra8,Nc3,Nfd7,f4,f6,f5,Re8,Qf2,Bf8,Qh4,Nc5,Rf3,g6,Rh3,Qe7,fxg6,hxg6', 'Qh8+,Kf7,Rh7+,Bg7,Qxg7#', 'https://lichess.org/training/5mUVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5mWc0', 'Blitz', 'puzzledpawn', 2111, 'Nejc1986', 2179, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,c6,e3,h6,Bf4,Bf5,Bd3,Bxd3,Qxd3,Bb4,Nf3,O-O,O-O,Re8,Ne2,Ne4,a3,Bd6,b4,Nd7,Rfc1,a6,Bxd6,Nxd6,Nd2,h5,Nb3,Qf6,Nc5,Nb6,Re1,Nbc4,Nc3,Qg5,a4,h4,h3,b6,Nb3,Re6,Ne2,Nxe3,fxe3,Rxe3,Qc2,Rxh3,Rf1,Qe3+,Rf2,Ne4,Rf1,Rg3,Qxc6,Rf8,Qxd5,Rg5,Qc6,h3,Nf4,Qxf4,Rxf4', 'Rxg2+,Kh1,Ng3#', 'https://lichess.org/training/5mWc0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5myug', 'Rapid', 'Tripletth', 1757, 'Clemenceau', 1689, 'd4,b6,e4,Bb7,d5,Ba6,Bxa6,Nxa6,Nc3,Nc5,Be3,d6,Nge2,Nf6,Bxc5,dxc5,h3,g6,e5,Nd7,e6,fxe6,dxe6,Nf6,Nf4,Bh6,Nfd5,O-O,Nxf6+,Rxf6,Qd5,Qxd5,Nxd5,Rxe6+,Kf1,Rc8,Rd1,Rd6', 'Nxe7+,Kf7,Rxd6', 'https://lichess.org/training/5myug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5N1tq', 'Classical', 'Owoiya49', 1787, 'LaithAl-Neemy', 1797, 'c4,f5,e3,Nf6,d3,e6,Nc3,Bb4,Bd2,Bxc3,Bxc3,O-O,Nf3,b6,Be2,Bb7,O-O,d6,Ng5,Qe8,Bf3,Bxf3,Qxf3,Nbd7,e4,fxe4,Nxe4,e5,Nxf6+,Rxf6,Qc6,Rc8,d4,Qf7,Qb7,Rf8,Qxc7,Rxf2,Rfe1,Rc2,Qxd6', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/5N1tq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5n5Tr', 'Rapid', 'Aggressive95', 1852, 'maplet', 1838, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bg5,f6,exf6,gxf6,Bd2,Bd6,Nh4,Bg6,Nxg6,hxg6,g3,Nd7,Nc3,Qc7,Qg4,Nf8,O-O-O,O-O-O,Na4,Kb8,Nc5,Re8,Qf3,e5,Qb3,exd4', 'Na6+,Ka8,Nxc7+', 'https://lichess.org/training/5n5Tr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5N6kl', 'Blitz', 'leorlima625', 1909, 'dnanghaka', 1909, 'd4,d5,Nf3,Bf5,g3,h6,Bg2,e6,O-O,Nf6,c4,dxc4,Nc3,Nbd7,Qa4,Be7,Qxc4,O-O,Bf4,c6,Rfe1,Nd5,e4,Nxf4,exf5,Nd5,fxe6,fxe6,Rxe6,N5b6,Qb3,Kh8,Rae1,Bf6,Bh3,Nb8,Ne4,Bxd4,Nxd4,Qxd4,Nd6,Qxf2+,Kh1,N8d7,Re7,Nc5,Qc3,Rg8,Nf7+,Kh7,Rf1,Nd5,Qxc5,Qxc5', 'Bf5+,g6,Ng5+,Kh8,Rh7#', 'https://lichess.org/training/5N6kl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5N8re', 'Rapid', 'DiogoBiscoito', 1663, 'GologGun', 1625, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Nc3,Nc6,Bf4,Nf6,Qd2,a6,O-O-O,Be7,Kb1,b5,Nce2,O-O,f3,Ne5,g4,c5,Nf5,Bxf5,gxf5,Qc7,Bxe5,dxe5,Qe3,Rfd8,Bh3,Rd7,Rdg1,Kh8,Rg2,Rad8,Rhg1,Rd1+,Nc1,Rxg1,Rxg1,c4,Qg5,g6,Qh6,Rg8,fxg6,fxg6,Ne2,Qc5,Qc1,Qf2,Qf1,Qxh2', 'Rh1,Qxh1,Qxh1', 'https://lichess.org/training/5N8re');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ne6y', 'Rapid', 'mogiel90', 1878, 'addgf', 1806, 'd4,e6,Bf4,c6,Nf3,Ne7,e3,Ng6,Bg3,d5,Bd3,Bd6,Bxg6,hxg6,Ke2,Be7,Ne5,Bf6,Nc3,Nd7,e4,Bxe5,Bxe5,f6,Bd6,e5,exd5,Nb6,Bc5,Nxd5,dxe5,Bg4+,f3,Nxc3+,bxc3,Qxd1+,Raxd1,Bf5,f4,Bxc2,Rd2,Be4,Rg1,Bd5,h3,O-O-O,Kf2,b6,Be3,Rhf8,g3,fxe5,Ke2,exf4,gxf4,Rde8,Rxg6,Rxf4,Rxg7,Rf3,Rd3,Rxh3,Rxa7,Bc4,Ra8+,Kb7,Rxe8,Rh2+,Kf3,Bxd3,Re7+,Ka6,Rc7,c5,a3,Bc4,Rd7,Rh3+,Kf4,Bb5,Rd2,Bc6,Ra2', 'Rf3+,Kg4,Rxe3', 'https://lichess.org/training/5ne6y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5neAZ', 'Blitz', 'NM Xychael27', 2434, 'chinlim', 2367, 'd4,d5,Nc3,e6,Bf4,f5,e3,Nf6,Bd3,Be7,Nf3,O-O,O-O,Ne4,h3,Nd7,Ne5,Nxe5,Bxe5,Bd6,Bxd6,Qxd6,f4,a6,Nxe4,fxe4,Be2,Bd7,c4,Kh8,cxd5,exd5,Bg4,Bb5,Be2,Rf7,Bxb5,axb5,a3,Raf8,Qg4,h6,Rac1,c6,Rf2,Rf6,Rcf1,b4,a4,c5,Qd1,b6,dxc5,bxc5,Rd2,d4,exd4,e3,Rd3,Rxf4,Rxf4', 'Qxf4,Qf3,Qxf3', 'https://lichess.org/training/5neAZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5NHgN', 'Rapid', 'Krusnikcross', 1634, 'Cnelok', 1702, 'e4,a6,d4,e6,e5,b5,a4,b4,c3,Bb7,Bd2,bxc3,bxc3,Be4,f3,Bd5,c4,Bc6,Nc3,d6,d5,exd5,cxd5,Bb7,exd6,Qxd6,Bc4,h6,Nge2,Nf6,O-O,Nxd5,Nxd5,Bxd5,Bf4,Qc5+,Rf2,Bxc4,Rc1,Bxe2,Qxe2+,Qe7,Rxc7,Qxe2,Rxe2+,Kd8,Rd2+,Ke8,Rc8+,Ke7,Bd6+,Kf6,Rxf8,Rxf8,Bxf8,Nd7,Rxd7,Rxf8,Ra7,Rb8,Rxa6+,Ke7,g4,f6,Ra7+,Kf8,h4,Rb2,Rc7,Ra2,Rc4,Kf7,Kf1,Ra3,Ke2,Kg8,Kf2,Kh7,Kg3,Kg6,Kf4,Kh7,Kf5,Rxf3+,Ke6,Rg3,a5,Ra3,Rc5,Ra4,Kd6,Rxg4,Kc6,Rxh4,Kb6,Ra4,a6,Kg6,a7,h5', 'Ra5,Rxa5,Kxa5', 'https://lichess.org/training/5NHgN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5NIeC', 'Rapid', 'sabs', 1935, 'naborjs', 1934, 'd4,d5,c4,e6,Nc3,f5,Nf3,Nf6,Bg5,c6,e3,Be7,Bd3,O-O,O-O,Nbd7,h3,Ne4,Bxe7,Qxe7,Qc2,Nb6,c5,Nd7,a4,b6,b4,a5,bxa5,bxc5,dxc5,Rxa5,Bxe4,fxe4,Nd4,Rxc5,Nb3,Rc4,Na5,Rc5,Nb3,e5,Nxc5,Qxc5,Rfc1,Qd6,a5,Ba6,Na4,Bb5,Nc5,Ra8,Nxd7,Qxd7,Qc5,Kf7,Qb6,Qa7,Qxa7+,Rxa7,Rc5,Ke6,Rc3,Kd6,Kh2,h5,Kg3,g5,h4,g4,f3,exf3,gxf3,gxf3,Kxf3,Rf7+,Kg3,Rg7+,Kh3,Ra7,Rca3,Kc5,Rg1,Kb4,Raa1,Rxa5', 'Rgb1+,Kc3,Rxa5', 'https://lichess.org/training/5NIeC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5nIGI', 'Rapid', 'sklin060825', 1909, 'DragonicKhaos', 1880, 'e4,d5,exd5,c6,dxc6,Nxc6,Nf3,Nf6,d4,Bg4,c3,e5,Be2,Bxf3,Bxf3,exd4,O-O,dxc3,Re1+,Be7,Bxc6+,bxc6,Qxd8+,Rxd8,Nxc3,Rd7,Be3,O-O,Rad1,Rfd8,h3,Bb4,Bxa7', 'Bxc3,Rxd7,Rxd7', 'https://lichess.org/training/5nIGI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5nIVW', 'Rapid', 'Rhuli94', 1669, 'VikasChahar', 1662, 'd4,c5,d5,Nf6,c4,Ng4,h3,Ne5,b3,d6,Bb2,Nbd7,e3,g6,f4,Bg7,fxe5,Nxe5,Nd2,O-O,Ngf3', 'Nxf3+,gxf3,Bxb2', 'https://lichess.org/training/5nIVW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5nixo', 'Rapid', 'remziatas', 1917, 'aam66', 1880, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,dxc4,a4,Be7,e4,O-O,Bxc4,h6,O-O,c5,d5,exd5,exd5,Bd6,Re1,a6,h3,Re8,Be3,Nbd7,a5,b6,axb6,Nxb6,b3,Nbxd5,Nxd5,Nxd5,Bxd5,Rb8,Bc4,Qf6,Bxa6,Bxa6,Rxa6,Bh2+,Nxh2,Qxa6,Bxc5,Rxe1+,Qxe1,Rxb3,Qe8+,Kh7,Nf3,Qf6,Bd4', 'Rb1+,Ne1,Qxd4', 'https://lichess.org/training/5nixo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5nj7a', 'Rapid', 'argatour2', 1937, 'batsaihan', 1978, 'e4,e5,Nf3,d6,Be2,f5,Nc3,fxe4,Nxe4,d5,Ng3,e4,Nd4,c5,Bb5+,Bd7,Bxd7+,Qxd7,Nb3,Nf6,O-O,Bd6,d3,O-O,Be3,d4,Bg5,exd3,Qxd3,Nc6,Qc4+,Kh8,Nxc5,Qc8,Rae1,Na5,Qb5,Qxc5,Qxc5,Bxc5,Bxf6,gxf6,Ne4,Bb6,b3,Nc6,Nd6,Rab8,Re6,Ne5,Ne4,Kg7,h4,Kg6,g3,Kf5,Rxb6,axb6,f3,Rbd8,g4+,Kf4,Kf2,f5,Ng5,Nc6,Re1,fxg4,Re4+,Kf5,Ne6,g3+,Kxg3,Rg8+,Kf2,Rd6,Nc7,d3,cxd3,Rxd3,Nb5,Rd2+,Ke3,Rxa2,Nd6+,Kf6,Rf4+,Ke6,Ne4,h6,Rf6+,Ke7,Rxh6,Ra3,Rh7+,Ke6,Rh6+,Kf5,Rf6+,Ke5', 'f4+,Kd5,Rd6#', 'https://lichess.org/training/5nj7a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5njx4', 'Rapid', 'Vesa66', 2226, 'Vversipellis', 2249, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,Na4,Bd4,c3,Bc5,Nxc5,dxc5,Bb5,Qd6,Bxc6+,bxc6,O-O,O-O,Bg5,Nd7,Qc2,f6,Be3,Rd8,Rfd1,Nf8,Qa4,Ne6,g3,Kh8,Nh4,g6,Ng2,a5,f4,Ba6,c4,Nd4,Bxd4,Qxd4+,Kh1,Qxb2,Qxc6,exf4,Nxf4,Bb7,Qxc7,Rxd3,Nd5,Qd4,Re1,Bxd5,exd5,Qxc4,Qc6,Rf8,d6,Rd2,Re8,Rxe8,Qxe8+,Kg7,Qe7+,Kh6', 'Qe3+,g5,Qxd2', 'https://lichess.org/training/5njx4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5nkOs', 'Rapid', 'TheFiero', 1887, 'noualibechir', 2010, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,g4,Be7,Be3,Nc6,g5,Nd7,a3,Nc5,b4,Nd7,Nb3,Bxg5,Qd2,Bf6,O-O-O,O-O,Na4,b5,Nb2,d5,exd5,exd5,Qxd5,Qc7,Bf3,Nde5,Be4,Be6,Qc5,Rac8,Rhg1,a5,Bg5,Bxg5+,Rxg5,Nc4,Rdg1,Qf4+,Kb1,Nxa3+,Ka2,Nxb4+,Kxa3,Rxc5', 'Rxg7+,Kh8,Rxh7#', 'https://lichess.org/training/5nkOs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5nlJz', 'Bullet', 'oliwkamiro', 1956, 'NM rafi22', 2424, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Nc6,O-O,Bc5,e5,d5,exf6,dxc4,Re1+,Be6,Ng5,Qd5,Nc3,Qf5,Nce4,Bb6,Ng3,Qd5,fxg7,Rg8,Qh5,O-O-O,Nxe6,fxe6,Qxh7,d3,cxd3,cxd3,Be3,Bxe3,Rxe3,d2,Rd1,Qd4,Nh5,Qxb2,Qe4,Qc1,Qxe6+,Kb8,Qb3,Nd4,Qa4,Nc6,Rg3,Qc5,Nf6,Qe5,Nxg8', 'Qe1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/5nlJz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Nlpr', 'Blitz', 'Rcfpas', 1736, 'Blesso1991', 1716, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Be6,Bd3,c6,O-O,Ne7,Bg5,h6,Bh4,Qd7,Rfd1,Ng6,Bg3,Ne5,Bxe5,dxe5,Qxe5,Qd6,Qa5,Be7,Bc4,Qb8,Bxe6,fxe6,Qh5+,Kf8,Rd7,Qe8,Qf3+,Kg8,Rad1,Kh7,e5,Rf8,Qd3+,Kh8,Ne4,Qf7,Rxb7,Rad8,Rd7,Rde8,Qg3,Qh5,f3,Rf5,Nd6,Rg5,Qf4,Bxd6,R1xd6,Rf8,Qxf8+,Kh7,Qf7,Qh4,Kf1,Qxh2,Rxe6,Qh1+,Ke2,Qxg2+,Kd3,Qf1+,Kc3,Qe1+,Rd2,Qe3+,Rd3,Qc5+,Kd2,Qf2+,Kc3,Qc5+,Kd2,Qf2+,Kc1', 'Rg1+,Rd1,Qe3+,Kb1,Rxd1#', 'https://lichess.org/training/5Nlpr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Nn8K', 'Classical', 'gabrielleal', 1651, 'Ilitsj', 1620, 'd4,c5,d5,b6,c4,Ba6,b3,b5,Bb2,bxc4,bxc4,Bxc4,Nd2,Bxd5,e3,Nf6,Ngf3,Nc6,Bb5,Rb8,a4,a6,Bxc6,Rxb2', 'Bxd5,Nxd5,Nc4,Rb4,Qxd5', 'https://lichess.org/training/5Nn8K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5nnVW', 'Classical', 'olegg110878', 1839, 'mahmoudabbas', 1768, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bc4,Qe7,Nc3,c5,Qd3,b6,O-O,Bb7,f3,O-O-O,a4,d5,Nxd5,Nxd5,Bxd5,Bxd5,exd5,Qd6,c4,Be7,a5,b5,cxb5,Qxd5,Qxd5,Rxd5,Bf4,Kb7,Rad1,Rhd8,Rxd5,Rxd5,Kf2,c4,b6,Bc5+,Be3', 'Rd2+,Kg3,Bxe3', 'https://lichess.org/training/5nnVW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5NQmP', 'Rapid', 'taimanov16', 2122, 'SMKN30', 2005, 'e4,c5,Nf3,e6,c4,Nc6,Nc3,a6,Bd3,Qc7,O-O,Nf6,Bc2,Be7,b3,Nd4,Nxd4,cxd4,Ne2,e5,Bb2,b5,f4,exf4,Nxf4,Bd6,Qf3,Bxf4,Qxf4,Qxf4,Rxf4,O-O,Bxd4,Nh5,Rh4,g6,c5,Ng7,Bxg7,Kxg7,d4,g5,Rg4,h6,Rg3,Bb7,Re1,Rad8,d5,Rfe8,Rd1,f6,b4,h5,h3,h4,Rf3,Re5,Kf2,Rde8,Re3,f5,c6,dxc6,dxc6,Bxc6,Rd6,R8e6,Rxe6,Rxe6,exf5', 'Rxe3,Kxe3,Bxg2', 'https://lichess.org/training/5NQmP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5NUTN', 'Rapid', 'BashirMoudarres', 2110, 'SA_mad', 1922, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,e5,Nb3,f5,Bc4,Nf6,O-O,Be7,h3,Qc7,Qe2,d5,exd5,Bd6,Nd2,O-O,Bb3,f4,Nde4,f3,Qxf3,Nxe4,Qxe4,Bf5,Qe2,e4,Nxe4,Qe7,f3,Bxe4,Qxe4,Bc5+,Kh1', 'Qxe4,d6+,Kh8,fxe4,Rxf1+', 'https://lichess.org/training/5NUTN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5nx3U', 'Blitz', 'luisogmi', 1916, 'lpman1986', 1721, 'e4,e5,Nf3,f5,Bc4,Nf6,Nxe5,d5,exd5,Bd6,d4,O-O,O-O,Nbd7,Re1,a6,a4,Kh8,Qf3,Nb6,Bb3,Ng4,Bd2,Nxe5,dxe5,Bc5,Bc3,c6,d6,Nd5,Bxd5,cxd5,Qxd5,Ba7,e6,Qg5,d7,Bxd7,exd7,Rad8,Nd2,Qh4,g3,Qg5,Nf3,Qh6,Ne5,Qb6,Re2,Rf6,Nf7+,Rxf7,Qxf7,Rg8,Qxg8+,Kxg8,Re8+,Kf7,d8=Q', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/5nx3U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5nx6g', 'Rapid', 'Jaraxis', 2090, 'cupidstunt79', 2138, 'e4,d6,d4,Nf6,Nc3,Nbd7,Be3,e5,d5,Be7,Qd2,c6,f3,Qc7,O-O-O,a6,Kb1,c5,h4,b5,g4,h6,Nh3,Nb6,g5,hxg5,hxg5,Nh5,f4,Ng3,Rh2,Nxf1,Rxf1,Bxh3,Rfh1,Qd7,f5,O-O-O,Rxh3,Rxh3,Rxh3,Nc4,Qe2,Nxe3,Qxe3,b4,Ne2,a5,c3,Qb5,Rh7,Bf8,Kc2,Kc7,f6,gxf6,Rxf7+,Kb6,Rxf6,a4,cxb4,Qxb4,g6,Rb8,Rf7,Bh6,Qxh6,Qxe4+,Kd1,Qxd5+,Qd2,Qh1+,Kc2,Qe4+,Qd3,Qc6,g7,Rg8,Qh7,Qg2,Qd3,Qc6,Nc3,Qg2+,Qe2,Qg6+,Kc1,Qxf7,Qb5+,Kc7,Qa5+,Kd7,Qxa4+,Ke7,Qa7+,Kf6,Qb6,Kxg7,Qxd6,Kh7,Qxe5,Rg1+,Kc2,Qf2+,Kb3,Qf7+,Kc2,c4', 'Qh2+,Kg7,Qxg1+', 'https://lichess.org/training/5nx6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5nxZS', 'Rapid', 'whiteknight70', 1910, 'nvem12345', 2001, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,c3,h6,Nbd2,c5,dxc5,Bxc5,Re1,Bg4,h3,Bh5,Nf1,Nc6,Ng3,Bg6,Nf5,Bxf5,Bxf5,Qb6,Rf1,Rad8,Bc2,Ne4,Qd3,f5,Be3,d4,cxd4,Nxd4,Qc4+,Kh8,Ne5,Kh7,Bd1,f4,Bf3,Nd6,Qd3+,Kg8,Bd5+,Nf7,Bxf7+,Rxf7,Nxf7', 'Nf3+,gxf3,Rxd3', 'https://lichess.org/training/5nxZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5NZll', 'Rapid', 'JJMoraes', 1718, 'crisovs', 1695, 'd4,d5,c4,c6,e3,Nf6,Nf3,e6,a3,Be7,Nc3,O-O,b4,a5,b5,cxb5,cxb5,Bd7,Be2,Qc7,Na4,b6,Bb2,Rc8,Rc1,Qd8,O-O,Be8', 'Rxc8,Qxc8,Nxb6', 'https://lichess.org/training/5NZll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5nZn7', 'Blitz', 'thrower', 2289, 'marbo', 2206, 'd4,Nc6,d5,Ne5,e4,Ng6,Nc3,e5,g3,Bc5,h4,h6,h5,Nf8,Qg4,Qf6,Qe2,a6,Be3,Bxe3,Qxe3,d6,Bh3,Bxh3,Nxh3,Nh7,O-O-O,Ne7,f4,O-O,Rdf1,exf4,gxf4,Rfe8,Rhg1,Nf5,Qf3,Nd4,Qg4,g6,hxg6,fxg6,Qxg6+,Qxg6,Rxg6+,Kf7,Rxh6,Rh8,e5,Rag8,exd6,cxd6,Rxd6,Nf8,Ng5+,Ke7,Rb6,Rh2,Re1+,Kd8,Rxb7,Rxc2+,Kb1,Rf2,Ne6+,Nfxe6,dxe6,Kc8,Ra7,Rgg2,Na4,Re2,Rxe2', 'Rg1+,Re1,Rxe1#', 'https://lichess.org/training/5nZn7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5NzXr', 'Rapid', 'BoulZork', 1900, 'hassotasso', 1860, 'd4,d5,c4,e6,Nc3,Nf6,e3,g6,g3,Bg7,cxd5,exd5,Bg2,c6,Nge2,O-O,O-O,Bg4,h3,Bf5,g4,Be6,b3,Na6,Ba3,Re8,Qc2,b5,Bb2,Rc8,Nf4,Nc7,a3,Qd7,Nd3,Qe7,Nc5,Nd7,Nb7,Nf6,Ne2,Na6,Nc5,Nxc5,dxc5,Nd7,Bxg7,Kxg7,b4,Ne5,Nf4,Nc4,a4,a6,axb5,axb5,Nxe6+,Qxe6,Ra7,Kg8,Qc3,Re7,Rfa1,Rce8,Ra8,Ne5,R1a6,Qf6,Qd4,Rxa8,Rxa8+,Kg7,f4,Nc4', 'Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/5NzXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5o35a', 'Blitz', 'Yuriy1961', 2065, 'anschewski', 2019, 'e4,c6,f4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,cxd3,d4,O-O,c5,b3,Ne7,a4,Nd5,Na3,Nc6,g3,Be7,Nc4,O-O,Ba3,a6,Ng5,b5,Nd6,Bxd6,exd6,Qxd6,Ne4,Qc7,Bxc5,Rfd8,a5,Nxa5,b4,Nb7,Bxd4,Nxb4,Be5,Qb6+,Kg2,Nxd3,Qg4,Nxe5,fxe5,Qc6,Kh3,Kh8,Rxf7,Rg8,Raf1,Nc5,Ng5,h6,Qh5,Ne4', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/5o35a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5O387', 'Rapid', 'Cuello', 2105, 'bahakz_32', 1958, 'd4,c6,c4,d5,Nc3,Nf6,cxd5,cxd5,Nf3,e6,Bg5,Be7,e3,O-O,Bd3,Nbd7,O-O,h6,Bh4,Nh7,Bxe7,Qxe7,Re1,a6,Rc1,b5,Bb1,Nb6,Qc2,Nf6,Ne5,Nc4,Ng4,g6,Ne5,Nxe5,dxe5,Nd7,f4,Bb7,Qf2,Rac8,Qg3,Kg7,Ne2,Rxc1,Rxc1,Rc8,Rxc8,Bxc8,Nd4,Nb6,f5,exf5,Bxf5,Qc5,e6,Qc1+,Kf2,Qd2+,Ne2,Bxe6,Qe5+,Kh7,Bxe6,Nc4,Qf4,fxe6,Qf7+,Kh8,Qf6+,Kh7,Qe7+,Kh8,Qxe6,a5,Kf3,Qd1,Qxg6', 'Ne5+,Kf2,Nxg6', 'https://lichess.org/training/5O387');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5O45X', 'Classical', 'Ambroagem', 1877, 'epifanioclaudioluiz', 1840, 'd4,Nf6,Bf4,e6,Nc3,a6,Qd2,Be7,e4,d6,f3,O-O,O-O-O,Nbd7,Bd3,Re8,Nge2,Nf8,Be3,a5,g4,a4,a3,e5,g5,Nh5,h4,g6,Nd5,c6,Nxe7+,Rxe7,dxe5,Rxe5,f4,Re8,f5,gxf5,exf5,Qe7,Rh3,d5,Bd4,f6,g6,c5,gxh7+,Nxh7,Rg1+,Ng7,Bc3,c4,Bb4,Qe5,Rhg3,Ng5,hxg5,cxd3,Nc3,Kf7,gxf6,Nxf5,Qxd3,Ra6,R3g2,Rc6,Rh1,Rxf6,Rh7+,Ke6,Nxa4,Qe1+,Qd1', 'Qxd1+,Kxd1,Ne3+', 'https://lichess.org/training/5O45X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5o49X', 'Rapid', 'Thanasis1987laa', 1642, 'Charles-Teston', 1679, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,Bd3,d6,Nbd2,Bg4,c3,c6,h3,Be6,h4,b5,h5,a5,hxg6,fxg6,Ng5,Bd7,Qc2,Qc8,Bxg6,h6,Nh7,Nxh7,Bxh7+,Kh8,Bxh6,Bf5,Bxg7+,Kxg7,Bxf5,Qxf5,Ne4,d5,f3,dxe4,fxe4,Qg6,O-O-O,Nd7,d5,cxd5,Rxd5,Nf6,Rxb5,Rh8,Rxh8,Rxh8,b3,Rh1+,Kb2,Rh2,Ka3,Rxg2,Qd3,Rg5,Rb7,Qxe4', 'Qxe4,Nxe4,Rxe7+,Kf6,Rxe4', 'https://lichess.org/training/5o49X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5O6KW', 'Rapid', 'pan27', 1737, 'roguff1', 1824, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,d6,h3,O-O,d4,exd4,Nxd4,Re8,Bg5,Nbd7,Qe2,Bxd4,f3,Ne5,Bb3,a5,Na4,Bd7,O-O-O,Ba7,Nc3,Be6,f4,Bxb3,fxe5,Rxe5,Bxf6,Qxf6,axb3,Rae8,Rhf1,Qe6,Qd3,Qh6+,Kb1,Qg6,g4,Qh6,Qc4,Bb6', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/5O6KW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5o8VJ', 'Rapid', 'ArtureRimbaud', 1835, 'Jan90', 1863, 'd4,d5,Nf3,c5,c3,Nc6,e3,Bg4,a3,cxd4,cxd4,e6,Nbd2,Nf6,Qb3,Qc7,Bd3,Bd6,O-O,O-O,h3,Bh5,Re1,Bg6,Bxg6,fxg6,Ng5,Qd7,Qd3,h6,Ngf3,Qf7,e4,dxe4,Nxe4,Be7,Bd2,Nd5,Nc3,Rad8,Re2,g5,Rae1,Nxc3,bxc3,e5,Qb5,exd4,cxd4,Bxa3,Qa4,Bd6,Be3,a6,Bd2,Bf4,Bb4,Nxb4,Qxb4,b5,Re7,Bd6,Rxf7,Bxb4,Rxf8+,Rxf8,Re6,Rf6,Re8+,Kf7,Ra8,a5,Ne5+,Ke6,Ra7,g6,Ra6+,Kf5', 'g4+,Ke4,Rxf6', 'https://lichess.org/training/5o8VJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5oAhB', 'Blitz', 'marko49', 1915, 'NollicK', 1746, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,h3,Bd7,Be3,Nc6,Nde2,a6,a3,b5,Ba2,e6,Qxd6,Qc8,Rad1,Rd8,Qg3,Nh5,Qh2,Qb7,g4,Nf6,Bg5,Rdc8,Rd6,Ne8,Rd2,Ne5,Qg2,Bc6,Nd4,Nd6,Nxc6,Rxc6,Rfd1,Rxc3,bxc3,Nxe4,Rd8+,Rxd8,Rxd8+,Bf8,Bh6,Nd7,Qf3,Qc7,Bxe6,Qxd8', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/5oAhB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5oaMY', 'Bullet', 'ArteSuave', 1973, 'Copernicium7', 1849, 'c4,b6,Nf3,Bb7,Nc3,Nf6,d3,e6,e4,Bc5,Be2,c6,d4,Bb4,Qc2,d5,e5,Nfd7,cxd5,cxd5,O-O,Nc6,a3,Be7,Bd3,h6,Be3,Rc8,Rac1,Na5,Nd2,Qc7,Qb1,Qb8,Nb5,Rxc1,Rxc1,O-O,b4,Nc6,Nc3,Qc8,f4,Qb8,f5,Rc8,Rf1,Ncxe5,fxe6,fxe6,Bh7+,Kh8,Ne2,Nc4,Bf4,Bd6,Bxd6,Qxd6,Nf4,Nxd2', 'Ng6+,Kxh7,Nf8+,Kg8,Qh7#', 'https://lichess.org/training/5oaMY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5oddm', 'Blitz', 'walidsalah07', 2280, 'll_kemo_lll', 1837, 'e4,e6,d4,Be7,e5,h6,Bd3,d6,f4,g5,fxg5,hxg5,Nf3,g4,Ng1,Bh4+,g3,Bxg3+,hxg3,Rxh1,Kf1,dxe5,Qxg4,Ne7,Bg5,Qxd4,Qxd4,exd4,Bh4,Rh2,Nf3,Rh1+,Ng1,Rh2,Be4,f5,Bg2,Ng6,Nf3,Nxh4,Nxh4,Rxh4,gxh4,Nc6,Na3,Bd7,Nb5,O-O-O,Bxc6,Bxc6,Nxa7+,Kb8,Nxc6+,bxc6,Re1,Re8,Kf2,e5,Kf3,e4+,Kf4,Rf8,h5,Kc8,Rh1,Kd7,h6,Ke6,h7,Rh8,Rh6+,Kd7,Kxf5,e3,Kg6,c5,Rh4,Kd6,Re4,Kd5,Re7,c4,Kf5,c5,a4,d3,cxd3,cxd3,Rxe3,c4,Rh3,d2,Rh1,Kd4,Kf4,Kd3,Kf3,Kc2,Ke2,d1=Q+,Rxd1,Rxh7,Rd2+,Kb3,Ke3,Re7+,Kd4,Ra7,Kc5,Rxa4,Rh2,Ra5+,Kd4,Ra2,Rh3+,Kb4,Rc3,Rxb2,Rxc4+,Kb5,Rc8,Rd2+,Ke3,Rd7,Rb8+,Kc6,Rc8+,Kb7,Rc1,Re7+,Kd2,Rd7+,Kc2,Rh7,Kb2,Ka6,Ka2,Kb5,Ra1,Rh2+,Kb1,Rh3,Ka2,Ka4,Kb1+', 'Kb3,Kc1,Rh1+,Kd2,Rxa1', 'https://lichess.org/training/5oddm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ODer', 'Blitz', 'ncecen3', 1630, 'DefJam90', 1606, 'g3,d5,Bg2,e5,d3,Nc6,e3,Bc5,Nd2,Nf6,Ne2,Be6,d4,exd4,exd4,Nxd4,Nxd4,Bxd4,Nf3,Bb6,O-O,O-O,b3,c6,Bb2,Kh8,Ng5,Ne4,Nxe4,dxe4,Bxe4,Qg5,Qd3,f5,Bg2,Rad8,Qc3,Bd4,Qxd4,Rxd4,Bxd4,Qd2,c3,Bd5,Bxd5,cxd5,a4,f4,Rad1,Qc2,Rc1,Qxb3,Rfe1,fxg3,hxg3,h6,Re7,Rg8,Bxa7,Qxa4,Rxb7,Qe4,Bd4,Kh7,Ra1,Kg6,Ra6+,Kg5,Rbb6,g6,Be3+,Kh5,Rf6,Qb1+,Kg2,Qe4+,Kh2,Qd3,Rf4,g5', 'g4+,Kh4,Rxh6#', 'https://lichess.org/training/5ODer');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5oIVD', 'Rapid', 'argoscacchi', 1694, 'huysyk', 1660, 'd4,d5,Nc3,c5,dxc5,d4,Ne4,f5,Ng3,e5,b4,Nc6,a3,a6,e3,Nf6,exd4,exd4,Bg5,Be7,Bd3,O-O,Bc4+,Kh8,Nf3,Ne4,Nxe4', 'fxe4,Bxe7,Qxe7', 'https://lichess.org/training/5oIVD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5oJxb', 'Rapid', 'Ortemis', 1640, 'amaks', 1684, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nf3,h6,O-O,b6,Qb3,Qd7,e5,Ne7,exd6,cxd6,Bxf7+,Kd8,Nxc3,Nbc6,Bf4,g5,Bxd6,Nf5,Bxf8,Rxf8,Rad1,Nfd4,Nxd4,Nxd4,Qc4,Qxf7,Rxd4+,Bd7,Qc6,Rc8,Qd6,Rc7,Nb5,Rc6,Qb8+,Rc8,Qxa7', 'Qxf2+,Rxf2,Rc1+,Rd1,Rxd1+,Rf1,Rfxf1#', 'https://lichess.org/training/5oJxb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5oleP', 'Rapid', 'dert765', 2027, 'al_ef', 2371, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Nf3,Nc6,Be2,Be7,O-O,O-O,Bg5,dxc4,Bxc4,Qb6,Bb3,Na5,d5,Nxb3,axb3,Nxd5', 'Nxd5,exd5,Bxe7', 'https://lichess.org/training/5oleP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5OLru', 'Classical', 'kenlim', 1669, 'BreakfastBlaise', 1627, 'Nf3,c5,g3,Nc6,Bg2,d5,c3,e5,d3,Be6,O-O,Be7,e4,d4,cxd4,Nxd4,Nxe5,Bd6,Qa4+,b5,Nc6,Qd7,Qd1,Qxc6,e5,Bd5,Bxd5,Qxd5,Nc3,Qc6,f4,Bc7,Ne4,Ne7,Be3,Bb6,Rc1,O-O-O,b4,c4,Nd6+,Rxd6,exd6,Qxd6,dxc4,Ndf5,Qxd6', 'Bxe3+,Kh1,Nxd6', 'https://lichess.org/training/5OLru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5OMkH', 'Classical', 'Sniper_Is_Real', 1679, 'Zeina123', 1602, 'e4,e5,Nf3,Nc6,Bb5,Nge7,Nc3,d6,h3,Be6,O-O,g6,d3,Bg7,Bg5,O-O,Bxc6,bxc6,d4,Rb8,dxe5,dxe5', 'Qxd8,Rfxd8,Bxe7', 'https://lichess.org/training/5OMkH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5OmOn', 'Rapid', 'LightningNZ', 1605, 'night_light', 1602, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Bg4,c3,e6,d4,Nf6,Bd3,Nd5,O-O,Bd6,Nxd6+,Qxd6,Re1,Nf4,Bxf4,Qxf4,Re4,Bxf3,Rxf4,Bxd1,Rxd1,O-O,Re1,Nd7,Re3,Nf6,Bxh7+,Nxh7,Rh4,g5,Rh5,Nf6', 'Rxg5+,Kh8,Rh3+,Nh7,Rgh5', 'https://lichess.org/training/5OmOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5OnqW', 'Rapid', 'ugotowned', 1752, 'ebrahimsamy25', 1746, 'e4,d5,e5,c5,d4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,e6,Nc3,cxd4,Nxd4,Bb4,Bd2,Ne7,a3,Bc5,Be3,O-O', 'Nxc6,Nxc6,Bxc5', 'https://lichess.org/training/5OnqW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5OOCC', 'Rapid', 'johndavis_59', 2218, 'MattrigOrigon', 2123, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,a6,O-O-O,b5,Nxc6,Qc7,Nd5,Qb7,Ndxe7+,Kh8,Bb3,a5,h4,Bd7,Bd5,Bxc6,Nxc6,Nxd5,exd5,a4,h5,b4,hxg6,fxg6,Bd4,b3,Qh6,Bxd4,Rxd4,bxa2,Rdh4,a1=Q+,Kd2,Qaxb2', 'Qxh7+,Qxh7,Rxh7+,Kg8,Ne7#', 'https://lichess.org/training/5OOCC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5OQHU', 'Rapid', 'turosu', 1922, 'Taralesh', 1861, 'e4,c5,Nf3,Nc6,Bb5,e5,O-O,d6,d3,Nf6,Nc3,Bg4,h3,Bh5,Nd5,a6,Bc4,Nxd5,Bxd5,Nd4,Nxe5,Bxd1', 'Bxf7+,Ke7,Bg5#', 'https://lichess.org/training/5OQHU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5oT7M', 'Rapid', 'BenLZ', 1985, 'FumadorDos', 1941, 'c4,g6,g3,Nf6,Bg2,Bg7,Nc3,O-O,d4,d6,Bg5,Nc6,e4,e5,Nge2,h6,Bc1,Bg4,f3,Bc8,Be3,Nh5,d5,Ne7,g4,Nf6,Qd2,Kh7,O-O-O,a6,Kb1,b5,c5,b4,Na4,Bd7,c6,Be8,Qxb4,Rb8,Qd2,Nfg8,Nec3,f5,gxf5,gxf5,Bf1,Qc8,Qe2,Bh5,Bh3,Qd8,Rdg1,fxe4,Qg2,Rf7,fxe4,Bf3,Qf1', 'Bxe4+,Nxe4,Rxf1+', 'https://lichess.org/training/5oT7M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5oVOr', 'Rapid', 'Wiljalba', 2409, 'Sutsuj', 2115, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,e6,Nxc6,bxc6,e5,Nd5,Bxd5,exd5,f4,d6,exd6,Qxd6,O-O,Bf5,Rf2,Rad8,Bd4,c5,Bxg7,Kxg7,Rd2,d4,Ne2,Bg4,Qf1,Rfe8,Ng3,Be6,f5,Bc8,Rad1,Ba6,c4,f6,Kh1,Qe7,Re2,Qf7,b3,Bc8,Red2,a5,a3,Qb7,Rd3,Re5,fxg6,hxg6,Qf4,g5', 'Nh5+,Kg6,Qxf6+', 'https://lichess.org/training/5oVOr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5oWvu', 'Blitz', 'FM ahlawy2', 2494, 'IM outoftheblu', 2585, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,O-O,Ne7,c4,Nbc6,Nc3,cxd4,Nxd4,Nxd4,Qxd4,Nc6,Qf4,d4,Ne4,d3,Rd1', 'dxe2,Rxd8+,Rxd8', 'https://lichess.org/training/5oWvu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5PAjQ', 'Blitz', 'paskuda', 1590, 'Serty2019', 1635, 'e4,d6,Nf3,c5,Nc3,e5,d3,a6,Be2,b5,Nd5,Nf6,Bg5,Be7,Bxf6,Bxf6,O-O,Be7,Nd2,Nd7,Bf3,Nf6,c4,bxc4,dxc4,Bb7,h3,O-O,a3,Nxd5,exd5,Bg5,b4,cxb4,axb4,Rc8,Rc1,Qb6,Rb1,Bxd2,Qxd2,Rxc4,Qd3,Rxb4', 'Rxb4,Qxb4,Rb1,Qc5,Rxb7', 'https://lichess.org/training/5PAjQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5PCV2', 'Rapid', 'MIGIBOSS', 1608, 'Ronaldmagnus', 1621, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,d4,Nf6,Nbd2,Be7,Qb3,O-O,d5,Na5,Qb4,b6,O-O,c5,dxc6,Nxc6,Qa4,Qc7,Re1,d5,exd5,Nxd5,Nxe5', 'Nxe5,Bxd7,Nxd7', 'https://lichess.org/training/5PCV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5PdHz', 'Blitz', 'MarceloR', 1904, 'enxadristamarcelo', 1877, 'd4,d5,c4,Nf6,Nc3,c6,Nf3,Bg4,Bf4,e6,cxd5,Bxf3,gxf3,cxd5,e3,Bd6,Bg3,O-O,Bd3,a6,Qc2,Nc6,a3,Rc8,Rg1,b5,Bh4,Be7,Bxf6,Bxf6,Bxh7+,Kh8,Ke2,g6,Bxg6,fxg6,Qxg6,Rc7,Rg3,Rh7,Rag1,Ne7', 'Qxh7+,Kxh7,Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/5PdHz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5pdqV', 'Rapid', 'AAAhmed_889', 1680, 'Kostya25', 1680, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bg5,Be7,Nc3,h6,Bh4,O-O,Bd3,c5,Ndb5,a6,Na3,b5,Naxb5,axb5,Nxb5,Ba6,a4,Nxe4,Bxe4,Qa5+,Qd2,Qxd2+', 'Kxd2,Bxh4,Bxa8', 'https://lichess.org/training/5pdqV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5PFej', 'Rapid', 'simy712', 1934, 'Neuvazhai_Koryto', 1878, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,Nge7,Bg5,h6,Bh4,g5,Bg3,Nf5,Bb5,Nxg3,hxg3,cxd4,cxd4,Bb4+,Nbd2,Qb6,Bxc6+,bxc6,Nxg5,Ba6,Nf3,Rb8,Qb3,Bc4,Qc2,Bxd2+,Kxd2,Qxb2,Rab1,Qxc2+,Kxc2,Rxb1,Rxb1,O-O,Nd2,Bb5,Nb3,Rb8,Nc5,Rb6,Nd7', 'Bd3+,Kxd3,Rxb1', 'https://lichess.org/training/5PFej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5pJxr', 'Rapid', 'Paolofana', 1753, 'Drinking_Beer', 1789, 'c4,g6,e4,Bg7,d4,c5,Nf3,Nc6,d5,Ne5,Nc3,d6,Bf4,Bg4,Be2,Bxf3,Bxf3,Nxc4', 'Qa4+,Qd7,Qxc4', 'https://lichess.org/training/5pJxr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5pKnN', 'Rapid', 'Omeralomeraloer', 1714, 'llahoirled', 1672, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,h6,Bf4,e5,Bb5+,Bd7,Bxd7+,Nbxd7,Be3,exd4,Bxd4,Be7,Qf3,O-O,Qg3,b6,Nd5,Kh7,f4,Rg8,Nxf6+,Nxf6,Qd3,Kh8,e5,dxe5,fxe5,Nd5,O-O,Rf8,Rad1,Nb4,Qh3,Qc8,e6,f6,c3,Nc6,Be3,Kh7,b4,g5,Qf5+,Kg7,Rd7,Qe8,Qg4,h5,Qf5,Qg6,Qb5,Ne5,Rxe7+,Kg8,Bd4,Ng4,h3,Nh6,Rc7,Rae8,Qd5,Kh8,e7,Rf7,Qd6,Ng8,Re1,Qh7,Bxf6+,Nxf6,Re6,Qb1+,Kh2,Kg7,Rb7,Qf5,Re5,Qf4+,Kh1,Qf1+,Kh2,Kg6,Qe6,Qf4+,Kh1,Qf1+,Kh2,Qf4+,Kg1,Qc1+,Re1,Qf4,Rc7,Qf5,Qc6,Kg7,Re6,Qb1+,Kh2,Ng4+,hxg4,hxg4,Rg6+', 'Qxg6,Qxg6+,Kxg6', 'https://lichess.org/training/5pKnN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5pLft', 'Classical', 'solgol', 2014, 'MonkeyResearcher', 1924, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,Be3,Be7,O-O,O-O,f4,Qc7,a3,b5,Bf3,Bb7,e5,Bxf3,Qxf3,Nd5,Nxd5,exd5,Qxd5,Nd7,exd6,Bxd6,Rac1,Rad8,c4,Nb6,Qc6,Nxc4,Qxc7,Bxc7,Bf2,Bxf4,Rc2,Be3,Rxc4', 'Bxf2+,Rxf2,bxc4', 'https://lichess.org/training/5pLft');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5pMOT', 'Rapid', 'hoppz', 1620, 'omt123', 1608, 'e4,e5,Nf3,d6,Bc4,Be7,h3,Nf6,O-O,O-O,Nc3,c6,d4,exd4,Qxd4,Nbd7,Bg5,Qc7,Rad1,Ne5,Nxe5,dxe5,Qd3,Rd8,Qg3,Rxd1,Rxd1,Bd7,Bh6,Nh5,Bxf7+,Kxf7,Qf3+,Nf6,Bg5,Kg8,Qd3,Be6,a3,Rd8,Qe2,Rxd1+,Qxd1,Qd7,Qf3,Qd4,g4,Qd7,Qe3,b6,f4,exf4,Qxf4,Bd6,e5,Bc5+,Kg2,Bd5+,Nxd5,Qxd5+,Kg3,Ne4+,Kh4,Nxg5,Qxg5,Bf2+,Kh5,Qd7,Qf4,g6+,Kh6,Be1,Qf6,Bd2+,g5,c5,e6,Qc7', 'e7,Bxg5+,Qxg5', 'https://lichess.org/training/5pMOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5pqcW', 'Blitz', 'Josim', 2333, 'Eldrail', 2564, 'd4,d5,Nf3,Nf6,e3,c6,Bd3,Bg4,O-O,e6,Nbd2,Be7,b3,O-O,Bb2,Nbd7,Rc1,Rc8,h3,Bh5,Be2,c5,c4,Qa5,a3,cxd4,Nxd4,Bg6,b4,Qd8,c5,a5,N2b3,axb4,axb4,Re8,Na5,b6,Nb7,Qc7,c6,Nf8,Nb5,Qb8,Bd4,Bxb4,Bxb6,Ne4,Qd4,Be7,Ba7,Qa8,f3,Bf6,Qa4,Ng3,Rfe1,Nxe2+,Rxe2,Rxc6,Rxc6,Qxb7,Rc7,Qa8,Nd6,Rd8,Nb5,Be5,Rc1,Bd3,Rd2,Bxb5,Qxb5,Qxa7,Qc5,Qd7,f4,Bb8,Qc6,Qe7,Qc5,Qf6,Qd4,Qg6,Qd3,Qh6,Qe2,Ba7,Rd3,Qxf4,Rf1,Qh6,Qf3,Ng6,Qxf7+,Kh8,Kh1,Rg8,Ra3,Bxe3', 'Qxg8+,Kxg8,Ra8+,Nf8,Raxf8#', 'https://lichess.org/training/5pqcW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5pQxE', 'Rapid', 'eko1637', 1919, 'pogromca18tek', 1920, 'e4,c5,Nc3,Nc6,g3,Nf6,Bg2,e6,d3,d5,Nge2,d4,Nb1,e5,O-O,Be7,f4,Bg4,h3,Bd7,f5,g6,g4,gxf5,exf5,h5,g5,Nh7,f6,Bd6,g6,fxg6,f7+,Kf8,Bh6+,Ke7,Ng3,Be6,Qf3,Kd7,Ne4,Bf8,Bxf8,Qxf8,Nbd2,Nd8,Nf6+,Nxf6,Qxf6,Nxf7,Bxb7,Rb8', 'Bc6+,Kxc6,Qxe6+,Qd6,Qxf7', 'https://lichess.org/training/5pQxE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Psl3', 'Rapid', 'James786007', 1720, 'maheshkaranjkar', 1791, 'e4,g6,d4,Bg7,Nf3,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,Nc3,Nxc3,bxc3,d6,cxd6,exd6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,Re1,Rd8,exd6,Qxd6,Be3,Nd7,Qb3,b6,Rad1,Nf6,Ng5,Ng4,g3,Rf8,Bf4,Qf6,Ne4,Qd8,h3,Nf6,Nxf6+,Qxf6,Be5,Qc6,Bxg7,Kxg7,d5,Qd7,Kg2,Rad8,c4,Qd6,Re2,a5,Rde1,Rd7,Re8,Rxe8,Rxe8,h5,Qc3+,f6,Re1,Kf7', 'Re6,Qxe6,dxe6+', 'https://lichess.org/training/5Psl3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5PtUu', 'Rapid', 'virgiliodiniz', 1978, 'Siam', 1967, 'e4,c5,f4,a6,Nf3,e6,d3,Nc6,Be2,Qc7,O-O,b5,Nc3,Bb7,Qe1,Be7,Qg3,g6,Nd1,Nf6,Ne3,Nh5,Qe1,Nxf4,Ng4,Nxe2+,Qxe2,Bd6,Nf6+,Ke7,Bg5,Kf8,h3,Kg7,Qd2,h6,Bh4,Ne5,Nxe5,Bxe5,c3,Bg3,Bxg3,Qxg3,Nxd7,c4,Nc5,Bc6,d4,Rad8,Rf3,Qh4,Raf1,Rhf8,Rf4,Qg5,Qf2,Qe7,Nxa6,Ra8,Nb4,Bb7,h4,f5,d5,e5,Rf3,Bc8,Nc6,Qd6,h5,Bd7,Nb4,Rf6,hxg6,Kxg6,Qg3+,Kh7,exf5,Raf8,Re3,Rxf5,Rfe1,Qf6,Rxe5,Rf1+,Kh2,Rxe1,Rxe1,Rg8,Qe5,Qh4+,Kg1,Re8,Re4', 'Qxe4,Qxe4+,Rxe4', 'https://lichess.org/training/5PtUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5pu3c', 'Rapid', 'tolya1975', 1831, 'csdemeter', 1931, 'd4,c5,dxc5,e5,Be3,Nc6,Nc3,Qa5,Qd5,Nf6,Qc4,a6,O-O-O,b5,cxb6,Bb4,Bd2,Qxb6,Na4,Bxd2+,Rxd2,Qxf2,Nb6,Qxf1+,Rd1,Qf4+', 'Qxf4,exf4,Nxa8', 'https://lichess.org/training/5pu3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5pu7Q', 'Rapid', 'mmshatranj', 1679, 'netctl', 1682, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Re1+,Be7,Bb5,Bd7,Ne5,Nxe5,Bxd7+,Qxd7,Rxe5,Nf6,d3,O-O,Re1,Rfe8,Nd2,Bd6,Rxe8+,Rxe8,Nf3,h6,b3,d4,Bb2,Ng4,h3,Ne5,Nxe5,Bxe5,Qh5,a5,a4,b6,g3,Kh7,Kg2,g6,Qh4,g5,Qh5,f5,Re1,Qd5+,Kh2,Rf8,Bc1,g4,Qxh6+,Kg8,Qg6+,Kh8,Bh6,Rg8,Qxf5', 'Bxg3+,fxg3,Qxf5', 'https://lichess.org/training/5pu7Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Pvt2', 'Rapid', 'bakio', 1922, 'SAV312', 1661, 'e4,e5,Bc4,Nc6,Nc3,Bc5,h3,Nf6,d3,h6,Nf3,d6,O-O,Bxh3,gxh3,Rg8,Nh2,g5,Ng4,Nxg4,hxg4,h5,Nd5,h4,Qf3,Rg6,c3,Rh6,Bxg5,Qxg5,Nxc7+,Kd8,Nxa8,h3,Qxf7', 'Qxg4+,Kh1,Qg2#', 'https://lichess.org/training/5Pvt2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5pWkz', 'Classical', 'jontpan', 1851, 'Eframin', 1902, 'd4,d5,c4,e6,Bf4,Nf6,Nc3,Nc6,cxd5,exd5,Nf3,Bb4,a3,Bxc3+,bxc3,Nh5,Bd2,Bg4,e3,Qf6,Qb3,Bxf3,gxf3,O-O,Qxd5,g6,Bd3,Rad8,Qe4,Rfe8,Qg4,Qg7,Ke2,Na5,Qg5,b6,Rab1,f6,Qg4,Rd5,c4,Rg5,Qh4,Nc6,Rhg1,a5,Bc3,Rxg1,Rxg1,Qh6,d5', 'Nf4+,Qxf4,Qxf4', 'https://lichess.org/training/5pWkz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5PwVF', 'Rapid', 'Demacian22', 1732, 'youngestGM', 1864, 'e4,e6,d4,d5,exd5,exd5,Bd3,c5,Nf3,Nf6,Be3,c4,Be2,Nc6,c3,Be7,Nbd2,Be6,O-O,O-O,Bf4,h6,Re1,Re8,Nf1,Bd6,Be5,Bxe5,Nxe5,Qc7,Nxc6,bxc6,Bf3,Rab8,Rb1,a5,Ng3,Bd7,Qd2,Rxe1+,Rxe1,a4,a3,Qb6,Re2,Be6,h3,Kh7,Nh5,Nxh5,Bxh5,g6,Bg4,Bxg4,hxg4,Qb3,f3,Qa2,Kf2,Rb3,Kg3,Qa1,Kh2,Qa2,Qc2,Qa1', 'Re7,Rb7,Rxb7', 'https://lichess.org/training/5PwVF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5PXm8', 'Blitz', 'bn425', 1546, 'Teknecik', 1542, 'e4,e5,f4,exf4,Nf3,d6,d4,Nf6,Nc3,Bg4,Bxf4,Be7,h3,Bxf3,Qxf3,O-O,O-O-O,c6,e5,Nd5,Nxd5,cxd5,exd6,Bxd6,Bxd6,Qxd6,Bd3,Nc6,c3,Rad8,Rhf1,f6,Qh5,g6,Bxg6,hxg6,Qxg6+,Kh8,Rf5,Rd7', 'Rh5+,Rh7,Qxh7#', 'https://lichess.org/training/5PXm8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5q1Xe', 'Rapid', 'Volkanov_Sergey', 2162, 'kjshukla', 2166, 'e4,c6,d4,d5,e5,Bf5,h4,h6,g4,Be4,f3,Bh7,e6,Qd6,exf7+,Kxf7,f4,Be4,Rh2,e6,Bd3,Nf6,Bxe4,Nxe4,Nf3,c5,Ne5+,Ke8,Be3,cxd4,Bxd4,Nc6,c3,Nxe5,fxe5,Qd8,Nd2,Be7,Nxe4,dxe4,Bf2,Qc7,Qa4+,Kf7,Qxe4,Rhd8,Bd4,Bc5,Rd1,Rd5,Rhd2,Be7,Bf2', 'Rxe5,Qxe5,Qxe5+', 'https://lichess.org/training/5q1Xe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Q8nO', 'Classical', 'ChessMatein3', 1613, 'noriven', 1643, 'e4,e5,Qh5,d6,Bb5+,c6,Bc4,Qe7,d3,Nf6,Qf3,Bg4,Qg3,h6,h3,Bd7,Nc3,b5,Bb3,b4,Na4,Nh5,Qf3,Nf6,c3,Na6,c4,Qd8,Bd2,Be7,a3,bxa3,Rxa3,d5,Ra1,dxe4,dxe4,O-O,Nc3,Rb8,Nd1,Nc5,Bc2,Be6,b3,Qd6,Ne2,Rfd8,Be3,Nxb3,Bxb3,Rxb3,O-O,Bxc4,Rxa7,Bxe2,Qxe2,Nxe4,Qc4,Rb4,Qc2,Bg5,Qa2,Bxe3', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/5Q8nO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5qA7P', 'Rapid', 'lugge94', 1626, 'Namig63', 1612, 'e4,e5,Nf3,c6,Nc3,Nf6,Nxe5,Bc5,Bc4,d5,exd5,cxd5,Bb3,O-O,d4,Bd6,Qe2,Nc6,Nxc6,bxc6,O-O,Re8,Qd3,Bxh2+,Kxh2,Ng4+,Kg1,Qf6,Qg3,Nh6,Bxd5,cxd5,Nxd5,Qe6,Nc7,Nf5,Qc3,Qg6,Nxa8,Ba6,Rd1,Rxa8,g3,Bb7,Re1,h5,Qb3,Rb8,Bf4,Qc6,f3,Nxd4,Qd3,Nxf3+,Kf1,Nh2+,Ke2,Re8+,Kd1,Rxe1+,Kxe1,Nf3+,Kd1,h4,gxh4,Nxh4,a4,Nf5,Ra3,Qh1+,Kd2,Qg2+,Kc1,Qg1+,Kd2', 'Qf2+,Kc1,Qxf4+', 'https://lichess.org/training/5qA7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5qeeB', 'Blitz', 'juniorfuzah', 1988, 'Kamsky16', 1820, 'e4,e6,d4,d5,exd5,exd5,f4,Nf6,Nf3,Bd6,Ne5,Nc6,c3,O-O,Bd3,Ne7,O-O,c5,Kh1,cxd4,cxd4,Nc6,Nc3,Nxd4,Bxh7+,Nxh7,Qxd4,Bxe5,fxe5,Be6,Bf4,Rc8,Rad1,Rc4,Qxa7,Qh4,Bg3,Qg4,Nxd5,Bxd5,Rxd5,Rc2,Qxb7,Qe4,Rg1,Ng5,Rd7,Qe2,Qd5,Ne4,Rd8', 'Nxg3+,hxg3,Qh5#', 'https://lichess.org/training/5qeeB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5QfOv', 'Rapid', 'Nov2009', 1755, 'MatejHarasta', 1793, 'e4,e6,d4,d5,Nd2,c5,Ngf3,Nc6,exd5,exd5,dxc5,Bxc5,Nb3,Bb6,Bb5,Nf6,O-O,O-O,Bg5,Bg4,h3,Bh5,Qd3,Bg6,Qd2,a6,Bd3,Re8,Bxg6,hxg6,Rad1,Ne7,Rfe1', 'Ne4,Rxe4,dxe4', 'https://lichess.org/training/5QfOv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Qiyj', 'Rapid', 'marzio', 1883, 'Alisayed2003', 1916, 'd4,c5,dxc5,e6,b4,a5,c3,Na6,e3,axb4,Bxa6,bxa6,cxb4,Nf6,Nf3,a5,Qd2,Nd5,Bb2,axb4,e4,Nc3,Nxc3,bxc3,Qxc3,Ba6,Rd1,Be7,Ne5,Bf6,Rxd7', 'Qxd7,Nxd7,Bxc3+', 'https://lichess.org/training/5Qiyj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5qKgE', 'Rapid', 'issloots', 1630, 'MagiciansGambit', 1707, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,c4,dxc4,Bxc4,Nd7,Nc3,Nb6,Bb3,Ne7,O-O,Ned5,Nd2,Qh4,Nc4,Nxc4,Bxc4,O-O-O,Qf3,Qxd4,Nxd5,cxd5,Be3,Qxe5,Bb5,Kb8', 'Bf4,Bd6,Bxe5', 'https://lichess.org/training/5qKgE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ql9H', 'Rapid', 'SaadIbrahim', 2133, 'Vayom07', 2075, 'e4,Nc6,Nf3,e5,c3,Bc5,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,Nf6,Bc4,d6,h3,O-O,O-O,Be6,Be2,d5,e5,Ne4,Nxe4,dxe4,Nd2,Qxd4,Bb5,Nxe5,Re1,f5,b3,Rad8,Nf1,Nd3,Bxd3,Qxd3,Qxd3,Rxd3,Rad1,Rfd8,Ne3,Rd2,Rc1,c6,Ra1,f4,Nf1,R2d4,Rac1,Bf5,Rc5,Bg6,g3,fxg3,Nxg3,Re8,Ne2,Rd3,Nf4,Rf3,Nxg6,hxg6,Re3,Rxe3,fxe3,Kf7,Kf2,Kf6,h4,Re5,Rc1,Rf5+,Ke2,Rh5,Rf1+,Ke6,Rf4,Ke5,a3,g5,hxg5,Rxg5,Kd2,Rf5,Rg4,g5,Kc3,a5,b4,axb4+,axb4,b5,Rg3,Kd5,Rg4,Kd6,Kd4,Re5,Rg3,Ke6,Rg4,Kf5', 'Rxg5+,Kxg5,Kxe5,c5,bxc5', 'https://lichess.org/training/5ql9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Qmn6', 'Rapid', 'Zidraz', 1618, 'ALFHA', 1768, 'd4,Nf6,Nc3,g6,Bg5,Bg7,e3,d5,Nf3,c6,Be2,Nbd7,Na4,b6,Nc3,O-O,a3,Qe8,Na2,e5,c3,Ne4,Bh4,exd4,Nxd4,Ndf6,Nf3,Ng4,Nd2,Bf6,Nxe4,Bxh4,Bxg4,Qxe4,Bf3,Qxe3+,Qe2,Qc5,O-O,a5,Nc1,Ba6,Nd3,Bxd3,Qxd3,Rfe8,g3,Bf6,Rae1,d4,Rxe8+,Rxe8,cxd4,Bxd4,Qb3,Re7,Kg2,Kf8,Qa2,h5,b4,axb4,axb4,Qd6,Qa8+,Kg7,Bxc6,Qxb4,Bf3,Bc5,Qa1+,Bd4,Qa8,Bf6,Qd5,Re1,Qc6,Rxf1,Kxf1,Qb1+,Kg2,Qb4,Qb7,Qc5,Bc6,Be7,Qa8,b5,Bf3,b4,Qa1+,Bf6,Qa8,b3,Qb7,Qa3,Bd5,Be7,Bxb3,Qd6,Bd5,g5,Qb2+,f6,Qb5,h4,Qb7,g4,Be4', 'h3+,Kf1,Qd1#', 'https://lichess.org/training/5Qmn6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5qsmb', 'Blitz', 'CM mikromurks', 2397, 'FM ViniciusRego', 2392, 'e4,c5,d4,cxd4,c3,Nc6,cxd4,d5,e5,Qb6,Ne2,Bg4,f3,Bf5,a3,e6,Nbc3,h5,b4,h4,Na4,Qd8,Be3,Nge7,Nc5,b6', 'Nb7,Qb8,Nd6+', 'https://lichess.org/training/5qsmb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5QTJQ', 'Rapid', 'MYMChessphil', 1848, 'reveforever', 1899, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,d6,Bb5,Bd7,Nxc6,bxc6,Bc4,Nf6,Nc3,O-O,f3,h6,Be3,Re8,O-O,Nh7,f4,Bf6,Bd4,Be6,Be2,Bxd4+,Qxd4,c5,Qd2,f5,Bf3,Nf6,e5,dxe5,Qxd8,Raxd8,fxe5,Nd7,Bc6,Bc4,Rxf5,Rxe5', 'Bxd7,Rxf5,Bxf5', 'https://lichess.org/training/5QTJQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5QY8Y', 'Rapid', 'kolya2019', 1697, 'salt_nd_peppa_pig', 1625, 'e4,b6,Nf3,Bb7,Nc3,e6,Bc4,Bb4,a3,Bxc3,dxc3,Bxe4,Qe2,Nf6,O-O,O-O,Bg5,d6,Bxf6,Bxf3', 'Qxf3,Qxf6,Qxa8', 'https://lichess.org/training/5QY8Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5qyfk', 'Rapid', 'Esad96', 1909, 'Theladrox', 1914, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Ng5,d5,exd5,Na5,Qe2,Bd6,d3,O-O,Be3,Re8,Nc3,Nxc4,dxc4,Bg4,f3,Bh5,g4,Bg6,O-O-O,e4,fxe4,Nxe4,Ncxe4,Bxe4,Nxe4,Rxe4,Qd3,Qe7,Rhe1,Bf4,Bd2,Bxd2+,Kxd2,Qg5+,Kc3,Qf6+,Kb3,Rxg4,h3,Rf4,Qe3', 'Rf3,Qxf3,Qxf3+', 'https://lichess.org/training/5qyfk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5qzd9', 'Rapid', 'StrangerPins', 1899, 'Ijon_Tichy', 1725, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,h6,c3,d6,cxd4,Nf6,O-O,Bg4,Qb3,Bh5,e5,Na5,Qb5+,c6,Bxf7+,Bxf7,Qe2,Bc4,Qe3,Nd5,Qe4,Bxf1,exd6+,Kd7', 'Ne5+,Kxd6,Nf7+,Kc7,Nxd8', 'https://lichess.org/training/5qzd9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5r2dY', 'Blitz', 'IM Machinegunusa', 2584, 'AlexSh_95', 2430, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bc4,g6,Nxc6,bxc6,e5,Nd7,exd6,exd6,O-O,Ne5,Bb3,Be7,f4,Ng4,Qe1,O-O,h3,Nf6,f5,Bxf5,Rxf5,gxf5,Bh6,Kh8,Bxf8,Qxf8,Qf2,Ne4,Qxf5,Nxc3,bxc3,Qg7,Re1,Bf6,Re4,Qg6,Qf3,Be5,Bxf7,Qh6,Bc4,Rf8,Qe3,Qg7,Rg4,Qf6,Qxa7,Bxc3,Bd3,Qh6,Qe7', 'Qc1+,Kh2,Be5+,Qxe5+,dxe5', 'https://lichess.org/training/5r2dY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5r6zH', 'Blitz', 'FM Inmortalrd', 2401, 'Jesus0985', 2293, 'd4,c5,d5,e5,e4,d6,Bb5+,Nd7,Nf3,a6,Bxd7+,Bxd7,h3,h6,O-O,f5,exf5,Bxf5,Nc3,Nf6,Nh4,Bh7,f4,exf4,Rxf4,g5,Qe2+,Kf7,Qe6+,Kg7,Nf5+,Bxf5,Rxf5,Qe7,b3,Kg6,g4,Re8', 'Rxf6+,Qxf6,Qxe8+', 'https://lichess.org/training/5r6zH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5raAT', 'Rapid', 'PUUNTUUPPAAJA', 2120, 'Artichoke96', 1920, 'e4,e5,f4,exf4,Bc4,d6,d4,Qh4+,Kf1,Bg4,Nf3,Qh6,Nc3,Nc6,Nd5,Bxf3,gxf3,O-O-O,Bxf4,Qh3+,Kf2,Be7,Bg3,Bf6,Nxf6,Nxf6,c3,d5,Bb5,dxe4,Bxc6,bxc6,Qa4,Qf5,f4,e3+,Ke2,Qg4+,Kd3,Qf5+,Ke2,Rhe8,Qxc6,Qc2+,Kf3,Nd5,Rhe1,f5', 'Qa8+,Kd7,Qxd5+', 'https://lichess.org/training/5raAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5rewZ', 'Blitz', 'MishaaTal', 2298, 'ganerd20', 2208, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Bxc6,bxc6,e5,Nd5,O-O,g6,c4,Nc7,b3,Bg7,Bb2,O-O,Re1,Ne6,Na3,a5,Nc2,a4,d4,cxd4,Ncxd4,Nxd4,Nxd4,Qc7,b4,Bxe5,Rxe5,Qxe5,Qd2,Qc7,Qh6,f6,Re1,Rf7,Re3,a3,Bc3,Ba6,c5,Bc4,Rg3,Rg7,Nf5,Rf7,Rxg6+,hxg6,Qxg6+,Kf8,Bd2,Ke8', 'Qg8+,Rf8,Ng7+,Kd8,Qxf8#', 'https://lichess.org/training/5rewZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5rGvi', 'Blitz', 'MianSanBus15', 2137, 'CM sanshiro', 2417, 'd4,g6,c4,Bg7,Nc3,c5,Nf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,e4,d6,Bd2,Nf6,Be2,O-O,O-O,Nd7,Qc2,Rb8,Rad1,Qc7,b3,e5,Na4,Nc5,Nxc5,dxc5,Be3,Qa5,Qd2,Qb6,Qc3,Be6,Qc1,Rbd8,Bh6,Rd4,Bxg7,Kxg7,Qe3,Rfd8,f4,exf4,Qxf4,Qb8,Qf6+,Kg8,e5,R8d7,Bf3,Qc7,h4,Qd8,Rxd4,cxd4,Qxd8+,Rxd8,Bxc6,d3,Bf3,Rd4,Rd1,Bf5,Kf2,Rxh4,Ke3,Kf8,g3,Rh2,Be4', 'Re2+,Kxd3,Rxe4', 'https://lichess.org/training/5rGvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5RhHn', 'Rapid', 'bonitoy11', 2016, 'NasrunAyub', 1798, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,d6,c3,Na5,Bc2,c5,h3,Qc7,d4,O-O,Nbd2,Be6,d5,Bd7,b3,Rfc8,Nf1,b4,c4,Nb7,N3h2,a5,g4,a4,Be3,a3,Ng3,g6,g5,Ne8,Ng4,Kg7,Kg2,Na5,h4,Rcb8,h5,Qc8,f3,f6,gxf6+,Nxf6,Nxf6,Bxf6,hxg6,hxg6,Rh1,Qc7,Qd2,Rh8,Bg5,Raf8,Rh6', 'Bxg5,Qxg5,Rxh6', 'https://lichess.org/training/5RhHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5RhKV', 'Blitz', 'lewikeith', 1953, 'mahdiar7', 1936, 'd4,e6,c4,d5,Nc3,dxc4,e3,Nf6,Nf3,Be7,Bxc4,O-O,O-O,b6,Ne5,Bb7,Bd3,Nbd7,Ng4,Nxg4,Qxg4,g6,h4,c5,h5,Nf6,Qh3,Nxh5,Rd1,cxd4,Ne4,Qc7,Bd2,Rac8,exd4,Rfd8,Bc3,Nf4,Qh6,Nxd3,Rxd3,Bxe4,Rh3,g5,d5,e5,Re1,Bf5', 'Bxe5,Qxe5,Rxe5,Rc1+,Kh2', 'https://lichess.org/training/5RhKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5rLMz', 'Rapid', 'Marioiko', 1825, 'mosbiusdesigns', 1814, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Nf6,Bc4,Bb7,O-O,Be7,f4,d5,fxe5,dxc4,exf6,Bxf6,Na4,O-O,Bd2,Bd4+,Kh1,Qh4,Bg5,Qxg5,Qxd4,Rad8,Qxa7,Bc8,Rad1,Be6,Rxd8,Qxd8,Qe3,Qa5,Nc3,Rd8,Rf2', 'Qxc3,bxc3,Rd1+,Rf1,Rxf1+,Qg1,Rxg1+', 'https://lichess.org/training/5rLMz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5RNvD', 'Blitz', 'ferhan81', 1799, 'kamaleon646', 1827, 'e3,c5,d3,b6,b3,Bb7,Nf3,e6,g3,Nf6,Bg2,Be7,Bb2,d6,c4,Nbd7,O-O,Qc7,a3,Rc8,Nc3,Qb8,Nb5,a6,Nc3,Qa8,d4,d5,cxd5,exd5,dxc5,bxc5,Nh4,O-O,Qd3,c4,bxc4,dxc4,Bxb7,Qxb7,Qc2,Nc5,Ne2,Nd3,Bxf6,Bxf6,Rab1,Qe4,Ng2,h5,Nc3,Qf3,Ne1,Nxe1,Rfxe1,h4,Qe4,Qh5,Nd5,Bg5,f4,hxg3,fxg5', 'Qxh2+,Kf1,Qf2#', 'https://lichess.org/training/5RNvD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ROiJ', 'Rapid', 'Brunozaurus', 1688, 'plota', 1680, 'd4,d5,c4,e6,Nc3,Bb4,Bd2,a6,a3,Bxc3,Bxc3,dxc4,a4,c6,e4,b5,Nf3,Ne7,b3,cxb3,Qxb3,bxa4,Rxa4,O-O,Be2,a5,O-O,Ba6,Bxa5,Qc8,Bxa6,Rxa6,Rb1,h6,Bb4,Rxa4,Bxe7,Re8,Qxa4,Rxe7,Qb4,Re8,Ne5,Nd7,Nc4,Qc7,Qc3,c5,Nd2,Rc8,Rc1,Qb6,f3,f5,Nc4,Qb4,Kf2', 'Qxc3,Rxc3,cxd4', 'https://lichess.org/training/5ROiJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5RQ77', 'Blitz', 'pipilipilav', 1878, 'chesstarr', 1873, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Be2,h5,h3,Ng4,hxg4,Qd4,Rf1,hxg4,d3,Rh1,Be3,Rxf1+,Bxf1,Qb4,Bxc5,Qxc5,Qd2,g3,fxg3,Bg4,Qg5,f5,Be2,Qg1+,Bf1,Qc5,Qd2,O-O-O,exf5,Re8+,Be2', 'Qg1#', 'https://lichess.org/training/5RQ77');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5RTeF', 'Rapid', 'Alexandro333', 1905, 'undark', 1880, 'e4,c5,Ne2,d6,Nf4,e6,Bc4,a6,a4,Nd7,a5,Ne5,Be2,g6,c3,Bg7,d3,Ne7,O-O,O-O,Be3,f5,f3,b6,d4,cxd4,Bxd4,bxa5,Qb3,d5,exd5,exd5,Bb6,Qd6,Bf2,Rb8,Qc2,Nxf3+,Bxf3,Qxf4,Bg3,Qe3+,Bf2,Qe6,Re1,Qd7,Bc5,Bf6,Nd2,Nc6,Bxf8,Kxf8,Ra2,Qc7,Nb3,Be5,g3,g5,Nc5,g4,Bg2,Bd6,Ne6+,Bxe6,Rxe6,Ne7,Bxd5', 'Qc5+,Qf2,Qxd5', 'https://lichess.org/training/5RTeF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5S2l1', 'Classical', 'Malibi', 1857, 'Julesdelo', 1679, 'Nf3,d5,d4,Nc6,g3,Bf5,c3,h6,Bg2,e6,O-O,Bd6,a4,a5,Na3,Nge7,Nb5,Qc8,Re1,O-O,Nh4,Bh7,e4,Ng6,Nxg6,Bxg6,Nxd6,cxd6,exd5,exd5,Bxd5,Rb8,Qf3,Qf5,Bf4,Bh5,Qg2,Rbd8,Be4,Qd7,h3,f5,Bd3,Bf7,h4,Ne7,Bb5,Qc7,Bd3,Bg6,Qf3,Kh8,Re6,Bf7,Re2,Bd5,Qh5,Bf7,Qf3,Nd5,Bxf5,Nxf4,Qxf4,Bg6,g4,Qc4,Qe4,Rde8,Qd3', 'Qxd3,Bxd3,Bxd3,Rxe8,Rxe8', 'https://lichess.org/training/5S2l1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5s5n9', 'Rapid', 'ante52', 1853, 'Tenpointfive', 1847, 'c4,Nf6,d4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Nf3,c5,d5,Bg4,O-O,Nbd7,Be3,e6,Qd2,exd5,Nxd5,Nxe4,Qc2,Ndf6,Nxf6+,Nxf6,Rfd1,Qe7,Rd2,Rad8,Rad1,Rd7,h3,Bf5,Qa4,b6,Nh4,Be6,Bf3,Rfd8,Bc6,Rc7,Bf4,Ne8,Bxe8,Qxh4,Bxd6,Rcc8,Bc6,Qxc4,Qxc4,Bxc4,Bb7,Bd4,Be7,Re8,Bxc8,Rxe7,b3,Bb5,a4,Bc6,Kf1,Kg7,Re2', 'Bxg2+,Kxg2,Rxe2', 'https://lichess.org/training/5s5n9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5S982', 'Rapid', 'gio95', 1862, 'SergeyDorofeev', 1901, 'd4,d5,c4,e6,Nc3,Nf6,f3,c5,cxd5,Nxd5,e4,Nxc3,bxc3,cxd4,Qxd4,Qxd4,cxd4,Bb4+,Kf2,O-O,Bb2,Rd8,Bc4,Nc6,Ne2,Na5,Bb3,Nxb3,axb3,Bd7,Rhc1,Rac8,Ke3,a6,Bc3,Be7,Ba5,Re8,Rc3,Rxc3+,Bxc3,Rc8,Rc1,Bb5,Bd2,Rxc1,Nxc1,Kf8,e5,h5,f4,h4,g3,g5,Kf3,hxg3,hxg3,gxf4,gxf4,Ba3,Ne2,Bb2,Nc3,Bc6+,Ke3,Ke7,Kd3,f6,Na4,Ba1,Bc3,Bxc3,Nxc3,fxe5,fxe5,Kd7,Kc4,Kc7,Na2,b6,b4', 'Bd5+,Kc3,Bxa2', 'https://lichess.org/training/5S982');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5s9O3', 'Rapid', 'MustafaPOLAT98', 1813, 'olegtambov', 1867, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Qf6,Qxf6,Nxf6,d3,c6,O-O,Bc5,Be3,Bd6,d4,b5,Bb3,Ba6,Nd2,b4,Bc4,Bxc4,Nxc4,bxc3,bxc3,Bc7,Nd2,d5,exd5,Nxd5,dxe5,Nxc3,Rac1,Ne2+,Kh1,Nxc1,Rxc1,Bxe5,g3,O-O,Rxc6,Rac8,Ra6,Bb8,Ne4,f5,Nc5,Rfe8,Nb7,Re7,Nd6,Bxd6,Rxd6,a5,Rd5,Rc2,a3,a4,Rxf5,Ra2,Rf4,Rxa3,Bc5,Ra1+,Kg2,g5,Rf5,Rf7', 'Rxg5+,Rg7,Rxg7+,Kxg7,Bd4+,Kg6,Bxa1', 'https://lichess.org/training/5s9O3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5sCGK', 'Classical', 'madcom777', 2196, 'gummibaer', 1976, 'd4,d5,c4,dxc4,e4,e5,dxe5,Qxd1+,Kxd1,Nc6,Nf3,Bg4,Bf4,O-O-O+,Kc2,Bxf3,gxf3,Nd4+,Kc3,Nxf3,Bxc4,f6,e6,Bd6,Bg3,Ne7,Na3,Nc6,Bxd6,Rxd6,Nb5,Rd2,e7,Nxe7,Nxa7+,Kb8,Nb5,Rxf2,Rad1,c6,Nd6,Kc7,Nf7,Rf8,Nd6,Rd8,Nf7,Rxd1,Rxd1,Rxh2,Be6,Ne5', 'Nxe5,fxe5,Rd7+,Kb6,Rxe7', 'https://lichess.org/training/5sCGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5seVP', 'Blitz', 'Arle', 1794, 'ma7icoalu', 1808, 'd4,Nf6,Bf4,d6,e3,g6,c3,Bg7,Nf3,O-O,Nbd2,Bg4,Bd3,Nbd7,Qc2,Bxf3,gxf3,e5,dxe5,dxe5,Bg3,Nh5,O-O-O,f5,Kb1,Nc5,Bc4+,Kh8,e4,f4,Nb3,Qe7,Nxc5,Qxc5,Bd5,fxg3,hxg3,Nf6,Rh3,Nxd5,exd5,Rxf3,Rdh1,h6,Qxg6,Rf6', 'Rxh6+,Kg8,Rh8#', 'https://lichess.org/training/5seVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5sfot', 'Rapid', 'iHomba', 1835, 'halaaku', 1912, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Bb4+,c3,dxc3,Nxc3,O-O,O-O,Bxc3,bxc3,Nxe4,Re1,Nf6,Bg5,d6,h3,Nc6,Bb3,Bf5,Nd4,Nxd4,Qxd4,Bg6,Re3,c5,Qh4,d5,g4,Qd6,f4,Be4,Rd1,Rae8,Bxf6,Qxf6,g5,Qf5,Rd2,b5,Bd1,Qc8,Bg4,Bf5,Rg3,Bxg4,hxg4,Re1+,Kf2,Rfe8,Rh3,h6,gxh6,g6,h7+,Kg7,Qh6+,Kh8,Qg5,Qd8', 'Qxd8,Rxd8,Kxe1', 'https://lichess.org/training/5sfot');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5sh2g', 'Rapid', 'berries', 1928, 'kero101', 1926, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,b6,e3,Bb7,Bd3,Nbd7,O-O,c5,Re1,Be7,e4,cxd4,Nxd4,dxe4,Nxe4,O-O,Qf3,Nc5,Nxf6+,Bxf6,Bxh7+,Kxh7,Qh5+,Kg8,Re3,Qxd4', 'Rh3,Qh4,Rxh4,Bxh4,Qxh4', 'https://lichess.org/training/5sh2g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5sHUF', 'Classical', 'jjose', 1634, 'doneduardo', 1647, 'e4,e5,Nf3,Nc6,b3,Nf6,Bd3,Bc5,O-O,d6,Re1,O-O,Bb2,h6,Bc4,Bg4,d4,exd4,c3,dxc3,Bxc3,Re8,Nbd2,d5,exd5,Nxd5', 'Rxe8+,Qxe8,Bxd5', 'https://lichess.org/training/5sHUF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5SIFf', 'Rapid', 'miklov', 1647, 'Hakim0611', 1705, 'e4,c6,c4,d5,cxd5,cxd5,exd5,Nf6,Nc3,Nxd5,Nf3,Nxc3,bxc3,Nc6,Bb5,Bg4,O-O,Bxf3,Qxf3,Rc8,Re1,e6,d4,a6,Ba4,b5,Bc2,Be7,Qh3,g6,Bh6,Bg5,Re2,Bxh6,Qxh6,Ne7,Qg7,Rg8,Qxh7,Rxc3,Qh4,Qc7,Rc1,Qd6,Qe4,Rc4,Rd1,Nf5,Qa8+,Qd8,Qxd8+,Kxd8,Bxf5,gxf5,Red2,Ke7,h3,Rd8,Kf1,Rdc8,Ke2,Kd6,Kf3,Kd5,Kf4,Rg8,g4,fxg4,hxg4,Rh8,f3,Rhc8,Kg5,R8c7,Kf6,a5,Re2,Rxd4', 'Re5+,Kc4,Rc1+', 'https://lichess.org/training/5SIFf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5SLf2', 'Rapid', 'andrekotur', 1872, 'gram_z_kibla', 1785, 'd4,b6,Bg5,Bb7,Nf3,g6,e3,Bg7,Bd3,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Nf6,f3,Nc6,f4,e6,Nc3,Qe7,a3,O-O-O,Qe2,d5,O-O-O,Na5,Nb5,Kb8,h3,Ne4,Bxe4,dxe4,Bxe7,Rd7,Bb4,Nc6,Bc3,f5,Bd2,a6,Nc3,Na5,Na4,b5,Bxa5,bxa4,Qc4,Bd5,Qxa4,Rhd8,Qb4+,Ka8,Qc5,Rb8,Bxc7,Rb7,Be5,Bxe5,fxe5,f4,Qc8+,Ka7,exf4,Rdc7,Qf8,e3,Rhe1,Be4,c3', 'Rxc3+,bxc3,Rb1#', 'https://lichess.org/training/5SLf2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Smba', 'Blitz', 'banele17', 1793, 'andrep', 1793, 'd4,Nf6,c4,e5,Nc3,exd4,Qxd4,Nc6,Qd1,Bb4,Bd2,d6,a3,Bxc3,Bxc3,Bf5,Nf3,O-O,b3,Qe7,e3,Rad8,h3,Ne5,Be2,Nxf3+,Bxf3,b6,O-O,Ne4,Bb2,Qh4,Qd4,f6,Qd5+,Kh8,Qxf5,Nd2,g3,Nxf3+,Qxf3,Qxh3,Qg2,Qf5,Qd5,Qc2,Rab1,Rfe8,Kg2,Rxe3,Rh1,Re2,Bd4,c5,Be3,Rxe3,Rxh7+,Kxh7', 'Rh1+,Kg6,Qh5#', 'https://lichess.org/training/5Smba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5smmF', 'Classical', 'lickchard', 1682, 'Calimerino', 1782, 'e4,e5,Nf3,d6,c4,Nf6,d3,h6,Nc3,Be7,h3,a6,b4,Nc6,Qa4,Bd7,Qb3,O-O,a4,Na7,Bb2,c6,b5,cxb5,axb5,axb5,Nxb5,Nxb5,Rxa8,Qxa8,cxb5,Qa5+,Bc3,Qxb5,Qxb5,Bxb5,Be2,Nd7,d4,Bxe2,Kxe2,exd4,Bxd4,Bf6,Rb1,Bxd4,Nxd4,Nc5,f3,Re8,Nf5,d5,Ke3,dxe4,f4,Kh7,Nd6,Re7,g4,Rd7,Nxe4,Nxe4,Kxe4,g6,h4,f6,Rb6,Kg7,f5,g5,hxg5,hxg5,Kf3,Kf7,Rb5,Ke8,Ke4,Kd8,Rb6,Rf7,Kd5,Kc7', 'Ke6,Kxb6,Kxf7', 'https://lichess.org/training/5smmF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5sNZq', 'Rapid', 'Sasha_DA', 1821, 'phil27', 1800, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,h3,Bg7,Nf3,Nc6,Bb5,O-O,O-O,a6,Bd3,b5,a3,Re8,Rb1,e5,b4,Be6,Bg5,h6,Bxf6,Bxf6,Nd5,Bxd5,exd5,Nd4,Nxd4,exd4,Qf3,Bg7,Rfe1,Qg5,Re4,Qd2,Rd1,Qc3,Qe2,Kf8,Re1,Rxe4,Qxe4,Be5,f4,Re8,fxe5', 'Rxe5,Qxe5,dxe5', 'https://lichess.org/training/5sNZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5SP5S', 'Rapid', 'Sivapragasam', 1613, 'barbasan', 1663, 'd4,Nf6,e3,g6,Be2,Bg7,Nf3,d6,O-O,O-O,Bd2,b6,Ng5,Bb7,Bf3,Bxf3,Qxf3,Nbd7,Nc3,a6,Na4,b5,Nc3,Re8,Nce4,e5,Nxf6+,Bxf6,Ne4,Bg7,dxe5,Bxe5,c3,Nf6,Nxf6+,Bxf6,Rad1,Re5,e4,c6,Bf4,Re6,e5,Bxe5,Bxe5,Rxe5,Qxc6,Re6,g3,h5,h4,Kg7,Qf3,Rf6,Qd5,Rc8,Rfe1,Rc5', 'Qxc5,dxc5,Rxd8', 'https://lichess.org/training/5SP5S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5sQBh', 'Blitz', 'usern4me', 2073, 'jeremyRutman', 2027, 'e4,b6,d4,Bb7,Bd3,g6,Be3,Bg7,Qd2,e6,Ne2,Ne7,Nbc3,d5,O-O-O,dxe4,Nxe4,Nbc6,Bh6,Bxh6', 'Nf6+,Kf8,Qxh6#', 'https://lichess.org/training/5sQBh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5suY9', 'Bullet', 'IM DrMelekess', 2894, 'GM DrNykterstein', 3250, 'd4,d5,Nf3,Nc6,c3,Bf5,Bg5,f6,Bf4,g5,Bg3,h5,h3,e6,e3,Bd6,Bxd6,Qxd6,Bd3,Nge7,Bxf5,Nxf5,Nbd2,O-O-O,e4,dxe4,Nxe4,Qd5,Qe2,g4,Nfd2,Nfxd4,cxd4,Nxd4,Qc4,Qxc4,Nxc4,Nc2+,Ke2,Nxa1,Rxa1,Rd4,Ned2,Rhd8,Rd1,b5,Ne3,f5,hxg4,hxg4,Nef1,c5,Rc1,R8d5,Nb3,Re5+,Ne3,Rc4,Rxc4,bxc4,Nd2,Kd7,Nxc4,Re4,f3,gxf3+,gxf3,Rh4,Nd2,Kc6,Kd3,Rh2,Nec4,Kd5,Ne3+,Ke5,Nec4+,Kf4,a3,e5,b4,cxb4,axb4,Rh3,Ke2,e4,fxe4,fxe4,Nf1,Rb3,Nce3,Rb2+,Ke1,Kf3,Nc4', 'Rb1+,Kd2,Rxf1', 'https://lichess.org/training/5suY9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5syvK', 'Classical', 'RabbiGambit', 1848, 'adilsonconciani', 1884, 'e4,e5,f4,exf4,Nf3,Nc6,d4,g5,Bc4,Bg7,h4,h6,Nc3,a6,O-O,d6,e5,dxe5,Re1,Bg4,dxe5,Nd4', 'Qxd4,Qxd4+,Nxd4', 'https://lichess.org/training/5syvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Syzr', 'Blitz', 'clt3', 1851, 'ENV3001', 1928, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,Kf1,d5,exd5,Bg4,d4,g5,h3,Bh5,Qe2+,Ne7,Qe5,O-O,Nxh4,Ng6,Nxg6,Bxg6,Nc3,Nd7,Qe2,Nb6,Bb3,Re8,Qf2,c6,dxc6,bxc6,Bd2,a5,Re1,Qd6,a4,c5,Nb5,Qc6,dxc5,Rxe1+,Bxe1,Re8,cxb6,Re3,Bxa5,Be4,Nc3,Bf5,Kg1,Qe8,Kh2,Qe5,Bb4,f3+,Qg3,fxg2,Kxg2,Be4+,Kf2,Qf5+,Kxe3,Bxh1,Ne4,Qxe4+,Kf2,Qxb4,Qxg5+,Kf8,Qd8+,Kg7,Qc7,Qd2+,Kg3,Qe3+,Kg4,Bf3+,Kf5', 'Qe4+,Kg5,h6#', 'https://lichess.org/training/5Syzr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5SzXp', 'Rapid', 'Kebliment', 1860, 'sizov_viktor', 1892, 'd4,c6,c4,d5,Nc3,Nf6,Nf3,Bg4,cxd5,cxd5,Qb3,Qc8,Nxd5,Bxf3,Nxf6+,gxf6,Qxf3,Nc6,e3,Nb4,Bb5+,Kd8,O-O,Nc2,Qd5+,Kc7,Qc4+,Kb8,Qxc8+,Kxc8,Rb1,Nb4,Bd2,Nd5,Rbc1+,Kd8,Bc4,e6,Bxd5,exd5,Rfe1,Bd6,h3,Rg8,e4,dxe4,Rxe4,Kd7,Bf4', 'f5,Re5,Bxe5', 'https://lichess.org/training/5SzXp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5T23C', 'Rapid', 'a919836475', 1772, 'ZaherZohbi', 1827, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Qd2,Qxb2,Qc3,Qc1+,Bxc1,Bb4,Qxb4,Nxb4,Na3,b5,c3,Nd5,e4,Nxc3,Bxb5,Nxe4,O-O,Rb8,Bb2,Ne7,e6,Nd6,Nd4,c5,exf7+,Kxf7,Rab1,cxd4,Bxd4,Nef5,Bc4+,Nxc4,Nxc4', 'Rxb1,Rxb1,Nxd4', 'https://lichess.org/training/5T23C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5T4yr', 'Rapid', 'whitingplayer', 1768, 'davcat08', 1770, 'e4,c5,Nc3,Nc6,Nge2,Nf6,Ng3,e5,d3,Be7,Be2,O-O,O-O,d5,f4,d4,Nb1,Bd6,f5,Be7,Nh5,Nxh5,Bxh5,b5,Nd2,Na5,Be2,Bg5,Nf3,Bf4,Bxf4,exf4,Nd2,Qd6,Qe1,Ba6,Qh4,c4,Qxf4,Qxf4,Rxf4,cxd3,cxd3,Rac8,Nb3,Nxb3,axb3,Rc6,Rff1,Bc8,Rxa7,Rc2,Re1,Rxb2,Kf2,Rxb3,Rc1,Rc3,Rxc3,dxc3,Rc7,b4,Rc4,Bd7,Rxb4', 'c2,Rc4,Rc8,Rxc2,Rxc2', 'https://lichess.org/training/5T4yr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5t69g', 'Rapid', 'JaxAmundo', 1605, 'ploas', 1669, 'd4,d5,c3,Nf6,Bf4,Nc6,e3,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,h6,h3,g5,Bg3,Ne4,Be5,Nxe5,Nxe5,Qf6', 'Qb5+,c6,Qxb7', 'https://lichess.org/training/5t69g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5t7F9', 'Rapid', 'imanjb', 2090, 'vishkaie2018', 1918, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,e6,Nbd2,Bd6,Ne5,O-O,c3,Nd7,Nxd7,Qxd7,Bxd6,Qxd6,f4,f6,Bd3,e5,Qh5,e4,Bc2,Be6,Bb3,Na5,Bc2,b5,b4,Nc4,Nxc4,bxc4,a4,a5,b5,Rfb8,O-O,c6,bxc6,Qxc6,Rab1,Bd7,g4,Be8,Qh4,Qd6,g5,f5,Rfc1,Rxb1,Rxb1,Qa3,Qe1,Bxa4', 'Ra1,Qb2,Bxa4', 'https://lichess.org/training/5t7F9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5t8EB', 'Classical', 'FranSanchez', 1683, 'MaHmOuDMmH', 1853, 'e4,c5,Nf3,Nc6,Bc4,d6,a3,Nf6,d3,g6,Nc3,Bg7,Be3,a5,Nd5,a4,Qd2,Rb8,Nxf6+,Bxf6,c3,e6,Bh6,b5,Ba2,Ne5,Nxe5,Bxe5,d4,cxd4,cxd4,Bf6,O-O,e5,dxe5,Bxe5,f4,Bf6,Qd5,Qb6+,Kh1,Be6,Qd2,Bxa2,Rxa2,Qc5,Rc1,Qh5,Bg5,Bxg5,fxg5,O-O,Rc6,b4,axb4,Rxb4,g4,Qxg4,Qxb4,Qf3+,Kg1,Qd1+,Kf2,Qh1,Ke3,Qxh2,Qxd6,Qg1+,Kf4,Qf2+,Kg4,Qe2+,Kg3,Qe3+,Kg2,Qxg5+,Qg3,Qd2+,Kh3', 'Qd7+,Kh2,Qxc6', 'https://lichess.org/training/5t8EB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5TAbD', 'Blitz', 'trademaker', 1576, 'normankong', 1547, 'd4,d5,Bf4,Bf5,e3,e6,c4,c6,Qb3,b6,Nc3,Bd6,Bg3,Nf6,Nf3,Bxg3,hxg3,O-O,cxd5,cxd5,O-O-O,Nbd7,Bd3,Ne4,Bxe4,Bxe4,Nxe4,Rc8+,Kb1,dxe4,Ne5,Nxe5,dxe5,Qf6,Rh2,Qxf2,Rdh1,h6,g4,Qg3,Qd1,g5,Rh3,Qxe5,Rxh6,f5,Rg6+,Kf7', 'Qd7+,Kxg6,Qh7+,Kf6,Rh6#', 'https://lichess.org/training/5TAbD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5tAMU', 'Classical', 'Holzbrecher', 1881, 'Amira12', 1868, 'd4,e6,Bf4,d6,Nf3,Nd7,c4,c6,Nc3,Ngf6,a3,Be7,Qc2,Nh5,Bg3,Nxg3,hxg3,h6,e3,O-O,Be2,e5,dxe5,Nxe5,Nxe5,dxe5,Rd1,Qb6,b4,f5,g4,fxg4,Qe4,g3,f3,Bf5,Qxe5', 'Bf6,c5,Bxe5', 'https://lichess.org/training/5tAMU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5TAN2', 'Rapid', 'TricksAndBotches', 1869, 'Laminard', 2039, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Be2,Bd6,O-O,Ne7,Bg5,f6,Bh4,Nbc6,c3,Qd7,Bg3,O-O-O,b4,Nf5,Bxd6,Nxd6,a4,h5,Nbd2,g5,Nb3,Ne4,Qd3,Bf5,b5,Ne7,Qe3,Ng6,Nc5,Nxc5,dxc5,Rhe8', 'c6,Rxe3,cxd7+', 'https://lichess.org/training/5TAN2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5tAov', 'Rapid', 'Eric_Shin', 1600, 'VincentVega2000', 1648, 'd4,Nf6,c4,d5,Nc3,g6,Nf3,Bg7,e3,O-O,Bd3,Nc6,O-O,Nb4,a3,Nxd3,Qxd3,b6,cxd5,Nxd5,Nxd5,Qxd5,e4,Qa5,Bd2,Qa6,Qxa6,Bxa6,Rfe1,c5,dxc5,Bxb2,Ra2,Bg7,cxb6,axb6,e5,Rfd8,Be3,Bb7,Bxb6,Rd3,a4,Bxf3,gxf3,Rxf3,Kg2,Rf5,Bd4,Ra5,Kg3,Bxe5+,Bxe5,Rfxe5,Rxe5,Rxe5,a5,Rb5,a6,Rb8,a7,Ra8,f4,Kg7,h4,f5,Kf3,Kf6,Ke3,e5', 'Ra6+,Kg7,fxe5', 'https://lichess.org/training/5tAov');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5taRw', 'Rapid', 'Rodrigo1973', 1761, 'matveevoleg', 1728, 'c4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,d4,Nc6,Nc3,Rb8,e4,e5,d5,Ne7,h3,Ne8,Be3,a6,Qd2,b5,cxb5,axb5,Bh6,Ba6,Rfd1,b4,Bxg7,bxc3', 'Qh6,Nxg7,Ng5', 'https://lichess.org/training/5taRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Tb9k', 'Rapid', 'jamsarsia', 2040, 'xugos', 2245, 'e4,e6,d4,d5,Nc3,Bb4,a3,Bxc3+,bxc3,dxe4,Qg4,Nf6,Qxg7,Rg8,Qh6,Rg6,Qh4,Rg4,Qh6,Rg6,Qh4,Nbd7,Ne2,b6,g3,Bb7,Bg2,Qe7,O-O,O-O-O,Bg5,h6,Be3,Rh8,c4,Ba6,Bxe4', 'Rg4,Qh3,Rxe4', 'https://lichess.org/training/5Tb9k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5TBCC', 'Rapid', 'Jaenish', 1819, 'jaypusal', 1792, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,f3,Bxe4,fxe4,e6,Nf3,Bd6,Bd3,Nd7,O-O,Ne7,Be3,O-O,e5,Bc7,c3,Nd5,Bg5,f6,exf6,N7xf6,c4,Nf4,Bxf4,Bxf4,Qc2,h6,Rad1,Ng4,Kh1,Ne3,Qb1,Nxf1,Rxf1,Bc7,Rd1,Qd6,Ne5,Kh8,Ng6+,Kg8,Ne5,Qe7', 'Bh7+,Kh8,Ng6+', 'https://lichess.org/training/5TBCC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5TcXH', 'Blitz', 'IPlayChessWhenBored', 2125, 'Anonymous_II', 2214, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,Nc6,O-O,O-O,Nb3,Be6,f4,Qc8,Nd4,Nxd4,Bxd4,Bc4,f5,b5,Nxb5,Bxb5,Bxb5,Rb8,Qd3,Nxe4,Bxg7,Kxg7,Qxe4,Rxb5,Qxe7,Qxc2,Rac1,Qxb2,f6+,Kg8', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/5TcXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5tFhW', 'Rapid', 'rusev', 2018, 'atrinjaysaha123', 2005, 'd4,f5,Nf3,e6,c4,Nf6,Nc3,Be7,Qc2,c6,e4,fxe4,Nxe4,d5,Ng3,O-O,Bd3,Qe8,O-O,Kh8,Re1,b6,Ng5,h6,Nxe6,Bb4,Bd2,Bxd2,Qxd2', 'Bxe6,Bf5,Ne4,Bxe4,dxe4', 'https://lichess.org/training/5tFhW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5TfmI', 'Rapid', 'kirllfominykh', 1606, 'Asdprom', 1691, 'e4,e5,Nf3,Nc6,Bc4,d6,O-O,Be7,d3,Nf6,Bg5,h6,Bh4,O-O,Nbd2,Be6,Re1,a6,c3,d5,exd5,Nxd5,Bxd5,Bxd5,Bxe7,Qxe7,d4,f6,c4,Bf7,d5,Na5,Rc1,b6,b4,Nb7,c5,bxc5,bxc5,Bxd5,Nb3,Bxb3', 'Qxb3+,Qf7,Qxb7', 'https://lichess.org/training/5TfmI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5THd0', 'Classical', 'Mashrat', 1750, 'martmeer', 1826, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Bf5,Bb5+,Nc6,Bg5,h6,Bh4,a6,Ba4,Qd6,Nf3,b5,Bb3,e6,O-O,Be7,Bg3,Qd8,a3,Nf6,Ne5,Nxe5,dxe5,Ne4,Ne2,Rc8,f3,Nc5,Rc1,Nxb3,cxb3,O-O,Kh1,f6,Qd2,Qb6,b4,Rc4,Nd4,Rxd4,Qe3,Rb8,exf6,Bxf6,Bxb8,Qxb8,g4,Rd3,Qe2,Bg6', 'Qxe6+,Kh7,Rc8', 'https://lichess.org/training/5THd0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5tij1', 'Rapid', 'KhaledabdelgwwaD', 2103, 'kia57', 2191, 'e4,c5,Nf3,Nc6,Bc4,g6,Nc3,Bg7,O-O,e6,d3,Nge7,Bf4,O-O,Qd2,d5,exd5,exd5,Bb3,Re8,Bg5,Qc7,Rfe1,Bg4,Nxd5,Nxd5,Bxd5,Bxb2,Rab1,Bg7,Bf4,Qd7,Bxc6,Qxc6,Ne5,Qe6,Rxb7,Qf5,Nxf7,Qd5,Rxe8+,Rxe8,Rxa7,Qd4,Be3,Qa1+,Qc1', 'Qxc1+,Bxc1,Re1#', 'https://lichess.org/training/5tij1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5tmAg', 'Classical', 'bolgarrior', 2077, 'Ogygiaa', 2132, 'e4,d6,Nc3,Nf6,Bc4,g6,d3,Bg7,a3,O-O,Nge2,c5,Bf4,Nc6,Qd2,e6,Ba2,d5,Bh6,Bxh6,Qxh6,dxe4,Nxe4,Nxe4,dxe4,Nd4,Qd2,Qf6,c3,Nxe2,Qxe2,Rd8,O-O,b6,f4,Bb7,f5,exf5,exf5,g5,h4,h6,hxg5,hxg5,Rae1,Bd5,Bxd5,Rxd5,Qe7,Rxf5', 'Qxf6,Rxf6,Rxf6', 'https://lichess.org/training/5tmAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5tnHr', 'Classical', 'cacopreviero', 1752, 'pornstars', 1651, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,h3,Ne7,Bd3,Bf5,Bg5,f6,Bh4,O-O,Bxf5,Nxf5,Qd3,Re8+,Kd2,Qd7,Nc3,c6,Rae1,Na6,Rxe8+,Rxe8,Re1,Bf4+,Kd1,Rxe1+,Kxe1,Nb4,Qd1,Qe8+,Kf1,Qh5,Bg3,Nxg3+,fxg3,Bxg3,a3,Na6,Qe2,Kf7', 'Ne5+,Qxe5,dxe5', 'https://lichess.org/training/5tnHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5TpYo', 'Rapid', 'Future_chess_gm', 1975, 'se2747', 1997, 'd4,Nf6,Bf4,d5,Nf3,Bg4,Nbd2,Nc6,h3,Bf5,e3,a6,Be2,e6,O-O,h6,Nh4,g5,Nxf5,gxf4,Nh4,Bd6,c4,dxc4,Nxc4,fxe3,fxe3,Ne4,Nxd6+,Nxd6,Qe1,Qg5,Nf3,Qxe3+,Kh1,Ne4,Rc1,O-O-O,Rxc6,Rhg8,Rc3,Qf4,Ne5,Qg5,Bf3,Ng3+,Kh2,Nxf1+,Qxf1,Qd2,Nxf7,Rdf8,Nd6+,Kb8,Nxb7,Rxf3,Qxf3,Qxd4,Rb3,Kc8,Kh1,Qe5,Qe3,Qd5,Qa7', 'Qxg2#', 'https://lichess.org/training/5TpYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5tQCO', 'Blitz', 'EatMySloth', 1620, 'grigorisk', 1585, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d5,exd5,Nxd5,O-O,O-O,Re1,Re8,b4,Bb6,a4,a5,b5,e4,dxe4,Ne5,Nxe5,Rxe5,exd5,Rxe1+,Qxe1,Bf5,Be3,Qf6,Bxb6,cxb6,Qd2,Rc8,Bd3,Bg4,f3,Bd7,Be4,Rc4,Qd3,Rc7,Bxh7+,Kh8,Be4,Bc8,Ra3,Rd7,Nd2,Rd6,c4,Bd7,Qc3,Qf4,g3,Qg5,Qe3,Qe5,Qf4,Qd4+,Qe3,Qb2,Kg2,Rh6,Kf2', 'Rxh2+,Kg1,Rxd2,Qxd2,Qxd2', 'https://lichess.org/training/5tQCO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Tr37', 'Rapid', 'MomoAsesino', 1648, 'austin_p', 1679, 'd3,d5,e4,dxe4,dxe4,Qxd1+,Kxd1,e5,Nc3,Nf6,Nf3,Bg4,Bd3,Nc6,h3,Bh5,g4,Bg6,Ke2,Bc5,Be3,Bb4,a3,Bxc3,bxc3,Nxe4,c4,O-O-O,Nh4,Nc3+,Kd2,Ne4+,Ke2,Rhf8', 'Nxg6,hxg6,Bxe4', 'https://lichess.org/training/5Tr37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5tvbT', 'Rapid', 'benwfreeman', 1699, 'LeftyCommander', 2046, 'e4,e5,f4,exf4,Nf3,g5,d4,d6,g3,g4,Nh4,f3,Be3,Be7,Nf5,Bxf5,exf5,Nf6,Nc3,Nc6,h3,Qd7,hxg4,Nxg4,Qxf3,Nxe3,Qxe3,Qxf5,O-O-O,O-O-O', 'Bh3,Qxh3,Rxh3', 'https://lichess.org/training/5tvbT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Tw3b', 'Blitz', 'JimmyGun', 1891, 'hyper_nova', 1899, 'g3,d5,Bg2,e6,c4,Bd6,cxd5,exd5,Bxd5,Bxg3,hxg3,Qxd5,Qa4+,c6,Nf3,Nf6,Nc3,Qe6,Ng5,Qe5,d4,Qf5,e4,Qg6,e5,Ng4,f3,Nh6,Qb3,O-O,Bd2,Nd7,O-O-O,Nb6,f4,Nd5,Nxd5,cxd5,Qxd5,Bf5,Bc3,Rac8,Qxb7,Bb1,Qb3,Rb8,Qa4,Rfc8,Rd2,Be4,Nxe4,Qxe4,Re1,Qxe1+,Kc2,Qxg3,Qxa7,Qxf4,d5,Qe4+,Kc1,Nf5,d6,Ne3,d7,Rd8,Qxb8', 'Qh1+,Rd1,Qxd1#', 'https://lichess.org/training/5Tw3b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5tWC6', 'Rapid', 'cartgolf1', 1889, 'Alexandr_888', 1892, 'd4,Nf6,c4,g6,e3,Bg7,Nf3,c5,Nc3,O-O,Be2,d6,a3,Nbd7,O-O,cxd4,Nxd4,b6,Bf3,Rb8,Ndb5,a6,Nd4,Ne5,Nc6,Nxc6,Bxc6,Qc7,Bd5,Nxd5,cxd5,Bxc3,bxc3,Qxc3,Bd2,Qc5,Rc1,Qxd5,Qe2,b5,Bc3,f6,Rfd1,Qb7,h3,Be6,Bd4,Bd5,Qg4,Kf7,h4,h5,Qg3,Rfc8,f3,Bb3,Rxc8,Qxc8,Ra1,a5,f4,b4,axb4,axb4,e4,Be6,e5,Qc4,Rd1,dxe5,fxe5,f5,Qg5,Rg8,Qh6,b3,Qh7+,Rg7,Qh6,Qc2,Rc1,Qe4,Bc5,Qxe5,Bxe7,Kxe7,Rc7+,Bd7,Qg5+,Qf6', 'Rxd7+,Ke8,Qxf6', 'https://lichess.org/training/5tWC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5TWPd', 'Blitz', 'zurkinek', 1669, 'OsamaSalah', 1681, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bf4,Qb6,Nb3,e5,Bg5,Be7,Bxf6,Bxf6,Nd5,Qd8,Qh5,a6,g4,Nd4,Nxd4,exd4,O-O-O,b5,e5,Bg5+,f4,Bb7,Rxd4,Bxd5,Rxd5,Bxf4+,Kb1,Rc8,Bh3,Qc7,Qf5,O-O,Qxf4,Qxc2+,Ka1,Rc4,Qd2,Qe4,Re1,Rfc8,Rxd7', 'Qxe1+,Qxe1,Rc1+,Qxc1,Rxc1#', 'https://lichess.org/training/5TWPd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5txzE', 'Rapid', 'serzh72', 1876, 'apis16', 1862, 'd3,d5,e3,e5,Be2,Nc6,Nf3,Bf5,O-O,Qd7,d4,e4,Nh4,g6,Nxf5,gxf5,Bh5,Nf6,Be2,O-O-O,Nc3,Kb8,f3,h5,f4,h4,Bd2,Bd6,Be1,Rdg8,Rf2,Ng4,Bxg4,Rxg4,h3,Rg6,Nxd5,Rhg8,Qe2,Be7,c4,Rg3,Kh2,R3g6,Bc3,Bd6,Rg1,Nb4,Bxb4,Bxb4,Nxb4,c6,c5,f6,Qc4,Qg7,Qe6,Rg3,Qb3', 'Rxh3+,gxh3,Qxg1#', 'https://lichess.org/training/5txzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5TZ8a', 'Bullet', 'calibandalsal', 2065, 'FM Sandstad', 2201, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qa4,Nd5,Qe4,Nb6,Nc3,d5,exd6,Bf5,dxe7,Bxe7,Qe3,O-O,Bd3,Re8,O-O,Bxd3,Qxd3,Qxd3,cxd3,Rad8,Be3,Rxd3,Rad1,Red8,Rxd3,Rxd3,Rd1,Rxd1+,Nxd1,Nc4,Kf1,Bf6,b3,Nxe3+,Nxe3,Kf8,Nd5,Bd8,Ke2,Ne7,Nf6,h6,Nd7+,Ke8,Nde5,Bc7,Kd3,Nf5,Nc4,Ke7,h3,Ke6,Ke4,b5,Ne3,Nxe3,Nd4+,Kd7,fxe3,a6,Kd5,Bb6,e4,Bxd4,Kxd4,Kd6,b4,f6,g4,Ke6,Kc5', 'Ke5,Kb6,Kxe4', 'https://lichess.org/training/5TZ8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5u0pX', 'Bullet', 'LowerSaxonier', 2196, 'Scale007', 2264, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,g3,Nf6,Bg2,Qc7,O-O,Bc5,Nb3,Be7,c4,d6,Nc3,O-O,Bf4,b6,Nb5,Qd7,Bxd6,Rd8,e5,Bxd6,Nxd6,Ba6,Re1,Ne8,c5,Rab8,Rc1,Ne7,c6,Qc7,Nxe8,Rxe8,Qd6,Rbc8,Red1,Bb5,Nd4,Ba6,Bf1,Bxf1,Kxf1,a6,b4,Nd5,b5,a5,Nf5,Rcd8,Qxc7,Nxc7,Nd6,Re7,a4,Nd5,Nc4,Rc7,f4,Rb8,Kf2,g6,Kf3,h5,Ke4,Kf8,Nd6,Ke7,Nc4,Kf8,Rxd5,exd5+,Kxd5,Rd8+,Nd6,Rb8,e6,Ke7,exf7,Rd8,Re1+,Kf8,Ke6', 'Re7+,Kd5,Rxe1,c7,Rd1+', 'https://lichess.org/training/5u0pX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5u2uS', 'Rapid', 'Dinakaranvijayaniv', 1755, 'Gokulkrishna2007', 2157, 'f4,d5,Nf3,c5,e3,Nc6,Be2,Qc7,c3,e5,fxe5,Nxe5,O-O,Nf6,Nxe5,Qxe5,d4,Qc7,Nd2,Bd6,Nf3,Bg4,h3,Be6,Ng5,O-O,Bd3,h6,Nxe6,fxe6,Bd2,c4,Bg6,e5,Qe2,e4,Bf5,Qe7,b4,b5,a4,a6,axb5,axb5,Rfb1,Nd7,Qg4,Rxa1,Rxa1,Qf6,Bxd7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/5u2uS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5U7l3', 'Blitz', 'CptCaz', 2022, 'alireza138585', 1653, 'e4,e5,Nf3,Bc5,c3,Nc6,Bc4,Qf6,O-O,h6,d4,exd4,cxd4,Nxd4,Nxd4,Bxd4,e5,Bxe5,Re1,Ne7,Nc3,Bd4,Ne4,Qb6,Qf3,O-O,Rb1,c6', 'Nd6,Bxf2+,Qxf2,Qxf2+,Kxf2', 'https://lichess.org/training/5U7l3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5uAfl', 'Rapid', 'Flavio_Monteiro', 1797, 'Hoppsik', 1843, 'd4,c5,d5,d6,c4,e5,dxe6,Bxe6,e4,Nc6,Nc3,Nf6,Nf3,Qa5,Bd3,Be7,O-O,O-O,Nd5,Bg4,Nxe7+,Nxe7,Bd2,Qb6,Bc3,Ng6,Bxf6,gxf6,b3,Ne5,Be2,f5,exf5,Bxf5,Nxe5,dxe5,Qd5,Rae8,Rfd1,Qg6,Qxb7', 'Be4,Qxe4,Qxe4', 'https://lichess.org/training/5uAfl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Ub8f', 'Classical', 'Subhra2019', 1973, 'KarpovGreatLegend', 2093, 'Nf3,c5,b3,Nc6,Bb2,Qc7,e3,a6,d4,e6,c4,cxd4,exd4,Nf6,Bd3,d5,O-O,Bd6,Re1,O-O,c5,Be7,a3,Re8,b4,Nd7,Ne5,Ncxe5,dxe5,b6,cxb6,Nxb6,Nd2,Bd7,Rc1,Qb7,Bd4,Rec8,Qe2,a5,Bc5,Bxc5,bxc5,Na4,Qe3,Qa7,Nb3,Rab8,Bb1,Bb5,Nd4,Bc4,c6,Nc5,h4,Nb3,Nxb3,Qxe3,Rxe3,Bxb3,Rc5,a4,Bd3,Rb6,Bb5,Kf8,Rd3,Rc7,Rd4,Ke7,g3,f6,f4,Kd8,Kf2,Ra7,Ke3,Kc7,Rb4,Ra5,Kd4,Bc4,Bxc4,Rxc5', 'Kxc5,Rxb4,Kxb4', 'https://lichess.org/training/5Ub8f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5uBGz', 'Bullet', 'zivko1956', 1716, 'milan-sdl', 1715, 'd4,Nf6,Nf3,e6,Bg5,d5,e3,h6,c4,Bb4+,Nfd2,O-O,Bh4,c5,dxc5,Bxc5,cxd5,exd5,Be2,Be6,O-O,Nc6,Nc3,d4,exd4,Qxd4,Bxf6,Qxf6,Nde4,Qe7,Nxc5,Qxc5,Rc1,Qg5,Bf3,Rfd8,Qa4,Bd7,Qa3,a6,Ne4,Qg6,Nc5,Rab8,Rfd1,Ne5,Be4,Qg5,Nxd7,Rxd7,Qh3,Rxd1+,Rxd1,Rd8,Rxd8+,Qxd8,Qb3,Qc7,h3', 'Qc1+,Kh2,Qf4+,Qg3,Qxe4', 'https://lichess.org/training/5uBGz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5UbUi', 'Classical', 'tarikabyle', 1727, 'JoseGalicia', 1794, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Be3,Qb6,b3,Bd7,Nc3,h5,Bb5,cxd4,Bxd4,Qc7,Bxc6,Bxc6,O-O,Nh6,Ng5,g6,h3,Nf5,a4,Bh6,Nf3,a6,Ne2,b5,c3,O-O,Bc5,Rfd8,a5,Qd7,Ned4,Nxd4,cxd4,Bb7,b4,Bf8,Ng5,Bxc5,bxc5,Bc6,Qd2,Rab8,Nf3,Kg7,Qg5,b4,Qf6+,Kf8,Ng5,Qe7', 'Qh8#', 'https://lichess.org/training/5UbUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5uC3s', 'Blitz', 'Nil456', 1566, 'yashdesai', 1599, 'b4,d5,Bb2,Nc6,b5,Nb4,a3,Nxc2+,Qxc2,Nf6,Bxf6,exf6,a4,Bb4,e3,g6,Be2,Bf5,Qd1,Qe7,Nf3,Be4,O-O,Bd6,g3,h5,d3,Bxf3,Bxf3,g5,Kg2,h4,g4,h3+,Kh1', 'Qe5,d4,Qxh2#', 'https://lichess.org/training/5uC3s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5UdGA', 'Classical', 'mischiko', 1634, 'ti-lou', 1687, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,h6,a3,O-O,b4,Bb6,b5,Ne7,Nxe5,d6,Nf3,Bg4,Be3,Ba5,Ba2,Ng6,c4,Ne5,Qa4,c6,Nxe5,dxe5,Qc2,Rc8,a4,c5,f3,Be6,Nc3,Bb4,Nd5,b6,f4,exf4,Rxf4,Qd6,Nxf6+,gxf6,Rxf6,Rcd8,Bxh6', 'Qd4+,Rf2,Qxa1+', 'https://lichess.org/training/5UdGA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5uem0', 'Blitz', 'FM GreenRanger87', 2455, 'letsplayludo', 2400, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Bg5,Be6,Be2,g6,Bf3,dxc4,d5,Qa5,Bxf6,exf6,dxe6,Rd8,Bxc6+,bxc6,exf7+,Kxf7,Qe2', 'Re8,Qxe8+,Kxe8', 'https://lichess.org/training/5uem0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5UfUJ', 'Rapid', 'ndkvt', 1651, 'Bujnaksk', 1930, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Nc6,d5,Nb8,h3,e5,Nh4,Nxe4,Nxe4,Qxh4,Bd3,O-O', 'Bg5,Qxg5,Nxg5', 'https://lichess.org/training/5UfUJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5uFvh', 'Rapid', 'eliasleon', 1658, 'Bigpasha55', 1643, 'd4,c5,d5,e6,c4,Nf6,Bg5,Be7,Nc3,exd5,cxd5,h6,Bxf6,Bxf6,d6,Bxc3+,bxc3,Nc6,Qd5,O-O,Qxc5,b6,Qd5,Re8,e4,Re5,Qd3,a5,Nf3,Ba6,Qc2,Rc5,Bxa6,Rxa6,O-O,b5,a3,Ne5,Nxe5,Rxe5,f4,Rc5,e5,Qb6,Kh1,b4,axb4,axb4,c4,Ra3,Rxa3,bxa3,Rb1', 'Rxc4,Rxb6,Rxc2', 'https://lichess.org/training/5uFvh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5UgHz', 'Classical', 'koksivsg', 1824, 'mukay', 1737, 'd4,d5,c4,c6,e3,Nf6,Nf3,Bf5,Bd3,Be4,cxd5,cxd5,O-O,e6,Nc3,Bxd3,Qxd3,Nc6,Qb5,a6,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/5UgHz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5UI6v', 'Rapid', 'Faludzanin', 1665, 'qwerty0000', 1719, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,h6,h3,O-O,Nd5,d6,Nxf6+,Qxf6,Be3,Bxe3,fxe3,Na5,Bb3,Nxb3,axb3,Qe7,O-O,f5,Nh2,f4,exf4,exf4,Nf3,Rf6,Qd2,Bd7,Nd4,Raf8,Rf3,c5,Ne2,Bc6,Rxf4,Rxf4,Nxf4,Qh4,Rf1,Rf6,g3,Qg5,Kg2,h5,h4,Qg4,Qe2', 'Rxf4,Qxg4,Rxg4', 'https://lichess.org/training/5UI6v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Uj07', 'Rapid', 'The_Automaton', 2422, 'FighterBoy2012', 2271, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,g4,Bg6,Nge2,c5,h4,h5,Nf4,Bh7,Nxh5,Nc6,dxc5,Bxc5,Bb5,Kf8,Bxc6,bxc6,Qf3,Bxc2,Bg5,Qb6,O-O,Qxb2,Rac1,Bd4,Nd1,Qxa2,Rxc2,Qxc2,Ne3,Qe4,Qe2,Qxe5,Qa6,Qd6,Rc1,Bb6,Qa4,Rc8,Bf4,e5,Nf5,Qb8,Qa3+,c5,Be3,g6', 'Bxc5+,Rxc5,Rxc5,Bxc5,Qxc5+', 'https://lichess.org/training/5Uj07');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Ujgy', 'Blitz', 'mauriliuss', 2141, 'galina1986', 1628, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Nf6,e5,Ng8,Nf3,d6,Bc4,Be7,O-O,Nc6,exd6,Bxd6,Qe2+,Nge7,Bg5,O-O,Rad1,Be6,Bxe6,fxe6,Qxe6+,Kh8,Bh4,Qe8,Rfe1,Qh5,Rxd6,cxd6,Bxe7,Nxe7,Qxe7,Rfe8,Qxd6,Rxe1+,Nxe1,Re8,Nf3,h6,h3,Qf5,Nh4,Re1+,Kh2,Qxf2,Ng6+,Kh7,Qd3', 'Qg1+,Kg3,Re3+,Qxe3,Qxe3+', 'https://lichess.org/training/5Ujgy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5UKTT', 'Classical', 'Pista91', 1885, 'tomas47t', 1899, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bd3,Bxd3,Qxd3,e6,Nc3,Nf6,Bf4,a6,O-O,Bd6,Be5,h6,a3,Qc7,Rfe1,Nbd7,h3,O-O,Re2,Bxe5,Nxe5,Rfe8,Rae1,Nf8,Nd1,N6d7,c3,Nxe5,Rxe5,Qc4,Qxc4,dxc4,a4,Nd7,R5e2,Nb6,a5,Nd5,Ne3,Nxe3,Rxe3,Rad8,Re5,Kf8,Kf1,Rd5,Ke2,Rxe5+,dxe5,Rd8,Ke3,Rd5,f4,Rxa5,Kd4,b5,Kc5,Ra2,Rb1,Ke7,g4,Kd7,Kb6,Kc8,b3,cxb3,Rxb3,Rh2,Kxa6,Rxh3,Kxb5,Rd3,Kc6,Rd7', 'Rb8+,Kxb8,Kxd7', 'https://lichess.org/training/5UKTT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5UnW2', 'Blitz', 'troll-own', 1639, 'TheCwone', 1707, 'd4,Nf6,c4,d6,Nf3,c5,Nc3,cxd4,Qxd4,Nc6,Qd3,Bg4,g3,Bxf3,exf3,Qc7,Bg2,e6,O-O,Be7,Nb5,Qb6,Nxd6+,Bxd6,Qxd6,Rd8,Qa3,Ne5,Be3,Qc6,f4,Nf3+,Kh1,h5,Rfd1,h4,Rxd8+,Kxd8,Qa5+,Kc8,Qb5,Qe4,Qc5+,Kd8,Rd1+,Nd7,Qd6,Kc8,Qxd7+,Kb8,Qa4,b6,Rd7,a5,Qd1,h3,Qd6+,Ka8,Ra7+,Kxa7', 'Qxb6+,Ka8,Qa7#', 'https://lichess.org/training/5UnW2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5uP5w', 'Rapid', 'hamidrezafozuni', 1826, 'freshman6', 1850, 'e4,e6,Nc3,Nf6,d4,Bb4,Bc4,d5,exd5,exd5,Qe2+,Be6,Bd3,Nc6,Bd2,Bxc3,Bxc3,O-O,Nf3,Re8,O-O,Bf5,Qd2,Ne4,Bxe4,dxe4,Ne5,Nxe5,dxe5,Qxd2,Bxd2,Rxe5,Rfe1,Rd8,Bf4,Rc5,c3,h6,Rad1,Rxd1,Rxd1,g5,Be3,Ra5,Rd8+,Kg7,Bd4+,f6,Re8,Rxa2,Re7+,Kg6,h3,Rxb2,Rxc7,Rb1+,Kh2,a5,Rc5,a4,Ra5,Bd7,c4,Bc6,c5,Rb4,Be3,Rc4,Ra8,f5,g3,Rc2,Rd8,f4,Rd6+,Kf5', 'g4+,Ke5,Bd4#', 'https://lichess.org/training/5uP5w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Us4h', 'Bullet', 'GM penguingim1', 3038, 'GM DrNykterstein', 3155, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,dxc5,O-O,Nf3,Nc6,Bg5,h6,Bh4,Bxc5,e3,Be7,Be2,b6,O-O,Bb7,Rfd1,Rc8,h3,a6,Rac1,Qc7,Bg3,d6,a3,Rfd8,b4,Qb8,Qb3,Qa8,Na4,Qa7,Rc2,Nb8,Nc3,Ne8,Rcd2,Nd7,Nd4,Nef6,Bf3,Ne5,Bxe5,dxe5,Bxb7,Qxb7,Nf3,Rxd2,Rxd2,Qc7,Ne2,e4,Nfd4,Qxc4', 'Rc2,Qxc2,Nxc2', 'https://lichess.org/training/5Us4h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5usDV', 'Blitz', 'Peonalacecho', 1562, 'kingiien', 1612, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,g6,Nc3,Ngf6,d3,Bg7,Bg5,O-O,Re1,h6,Bh4,Ne5,Nxe5,dxe5,Qf3,Nh5,Nd5,g5,Bxg5,hxg5,Qxh5,e6,Ne3,f5,Rad1,Rf6,Qxg5,f4,Nc4,f3,g3,Rh6,Qxd8+,Rxd8,Nxe5,Bxe5,h4,Bxb2,Rb1,Bc3,Re3,Rf6,Rxb7,Bd4,Re1,Ra8,Reb1,Rff8,Re7,e5,Rbb7,Rfe8,Rg7+,Kh8,Rgd7,Red8,Rxa7,Rxa7,Rxa7,Rb8,Kh2,Rb2,Kh3,Bxf2,Re7,Bd4,Kg4,Rxc2,Kg5,f2', 'Kg6,f1=Q,Re8+,Qf8,Rxf8#', 'https://lichess.org/training/5usDV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5USTd', 'Rapid', 'hoseinbabaee', 1760, 'nikolay020385', 1784, 'd4,e6,c4,Nf6,Nf3,Be7,a3,d5,c5,b6,b4,Ba6,Nc3,c6,Ne5,bxc5,dxc5,Nfd7,Bf4,Nxe5,Bxe5,Bf6,Qd4,Nd7,Bxf6,Nxf6,Rd1,O-O,g3,h6,Bg2,Re8,O-O,e5,Qd2,Qe7,e3,Bxf1,Bxf1,Rad8,b5,Qxc5,bxc6,Qxc6,Bb5,Qc5,Bxe8,Rxe8,a4,Rb8,Rc1,Qa3,Rc2,Qa1+,Kg2,d4,exd4,exd4,Qxd4,a5,Rd2,Rb4,Qd8+,Kh7,Qd3+,g6,f3,Rb2,Rxb2,Qxb2+,Kh3,Qb3,Qd4,Qe6+,g4,Nh5,Nd5', 'Qxd5,Qxd5,Nf4+,Kg3,Nxd5', 'https://lichess.org/training/5USTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5UT6h', 'Rapid', 'anikhtos', 1775, 'jaxket', 1827, 'd4,e6,Nf3,d5,e3,c5,Nbd2,h6,a3,Nc6,c4,a6,cxd5,exd5,dxc5,Bxc5,b4,Bd6,Bb2,Nf6,Nd4,Nxd4,Bxd4,O-O,Nf3,Bg4,h3,Bh5,g4,Bg6,g5,Ne4,gxh6,gxh6,Ne5,Qh4,Qf3,Rac8,Rg1,Rc2', 'Nxg6,fxg6,Rxg6+', 'https://lichess.org/training/5UT6h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5uVam', 'Rapid', 'Kuckodony', 1820, 'Lopatkin_Egor', 1809, 'd4,c6,Bf4,d5,e3,Bf5,Nf3,h6,c4,e6,Nc3,Bb4,Be2,Qa5,Qd2,Nf6,O-O,Ne4,Qd1,Nxc3,bxc3,Bxc3,Qb3,Nd7,Rac1,Bb4,cxd5,exd5,Nh4,Be6,Be5,Nxe5,dxe5,Rb8,Qd3,O-O,f4,Be7,f5,Bxh4,fxe6,fxe6,Bg4,Rxf1+,Rxf1,Re8,Qg6,Qd8,Rf7,Qg5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/5uVam');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Uxa4', 'Rapid', 'phenixa', 2009, 'Sealy8', 1964, 'e4,e6,d4,d5,e5,c5,Nf3,cxd4,Bd3,Nc6,O-O,Nb4,Be2,Qc7,Nxd4,Qxe5,Re1,Qc7,c3,Nc6,Be3,Nge7,Na3,a6,Qa4,Bd7,Qd1,Nxd4,Bxd4,Nf5,Bf3,Nxd4,Qxd4,Qc5,Qxd5,Qxd5,Bxd5,Bc6,Bxc6+,bxc6,Nc2,c5,c4,Be7,b3,Bf6,Rad1,Ke7,Ne3,Bc3', 'Nd5+,Kd7,Nxc3+', 'https://lichess.org/training/5Uxa4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5uzVX', 'Blitz', 'Cas9_CRISPR', 1966, 'myrcea88', 1943, 'e4,b6,d4,Bb7,Bd3,e6,Nf3,Nc6,c4,Nf6,Nc3,h6,h3,Bb4,O-O,Bxc3,bxc3,O-O,e5,Ne8,Qc2,d6,Rd1,dxe5,Nxe5,Nxe5,dxe5,Qe7,a4,a5,Ba3,c5,Be4,Bxe4,Qxe4,Nc7,Rd6,Rab8,Rad1,Rfd8,f4,Ne8,R6d3,Rxd3,Qxd3,f6,Bc1,fxe5,fxe5,g5,Rf1,Ng7,Qg6,Qe8,Qxh6,Qxa4,Bxg5,Qxc4,Bf6,Rb7,Rf3,Qe4,Rg3', 'Qe1+,Kh2,Qxg3+,Kxg3,Nf5+,Kf2,Nxh6', 'https://lichess.org/training/5uzVX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5v3pa', 'Bullet', 'Injener_Garin', 1693, 'Fajrizamuklis', 1745, 'd4,Nf6,d5,d6,f3,e5,e4,Be7,c4,O-O,g4,c6,Nc3,cxd5,cxd5,Nfd7,Kd2,Na6,a3,b6,Kc2,Nac5,b4,Nb7,Nge2,a5,b5,Nbc5,a4,Bb7,Ng3,Rc8,Nf5,Nf6,Kb2,Re8,Nxe7+,Qxe7,h4,Nfd7,h5,Nf8,g5,Ncd7,Bh3,Rc7,f4,exf4,Bxf4,Ne5,Bf1,Rec8,Rc1,Nfd7,Bh3,Rc4,Bd2,R8c7,Rc2,Bc8,g6,hxg6,hxg6,Nxg6,Qh5,Nde5,Bxc8,Rxc8', 'Qh7+,Kf8,Qh8+,Nxh8,Rxh8#', 'https://lichess.org/training/5v3pa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5v6aS', 'Blitz', 'GM AtalikS', 2694, 'rigoletto1971', 2596, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,a6,a4,g6,Be2,Bg7,Nf3,O-O,Nd2,Nbd7,O-O,Rb8,Kh1,Ne8,f4,Nc7,Nc4,Qe7,e5,Ne8,Bf3,dxe5,d6,Qd8,Nd5,b5,axb5,Rxb5,Ne7+,Kh8,Nc6,Qh4,N4xe5,Nef6,g3,Qh3,Bg2,Qe6,Re1,Qb3,Qxb3,Rxb3,Ne7,Bb7,Bxb7,Rxb7,Rxa6,Nxe5,fxe5,Nd7,Nc6,Re8,Kg2,Nxe5,Nxe5,Bxe5,Bg5,Kg7,Kh3,f6', 'Bxf6+,Bxf6,Rxe8', 'https://lichess.org/training/5v6aS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5V7ZE', 'Classical', 'kaan0303', 1777, 'IshmaelKissinger', 1863, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,Nf6,Nd5,d6,h3,Na5,b4,Nxc4,bxc5,Na5,cxd6,Qxd6,c4,O-O,Bb2,Re8,Nxf6+,Qxf6,Qa4,Nc6,c5,Bd7,Qc4,Be6,Qc3,Rad8,Nxe5,Nxe5,Qxe5,Qxe5,Bxe5,Rxd3,Bxc7,Re7,Bf4,Bf5,f3,Bxe4,O-O,Bc6,Bd6,Re2,Rfe1,Rxe1+,Rxe1,b6,Re7,bxc5,Bxc5,a5,Rc7,Bb5,Rb7,Bc4,Ra7,Bxa2,Rxa5,Rd1+,Kh2,Rd2,Be3,Re2,Bf4,h5,Rxh5,f6,Rb5,Bc4,Rb8+,Kh7,Kg3,Ra2,Rb1,Kg6,Be3,Kf5,h4,Re2,Bc5,g6,Rc1,Bd5,Rf1,Ke6,Rf2,Re5,f4,Rf5,Re2+,Kd7,Kg4,Be6,Rd2+', 'Rd5+,Kf3,Rxd2', 'https://lichess.org/training/5V7ZE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5V9Zo', 'Classical', 'fischer_tanvir', 1694, 'noduasram', 1687, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qh5+,g6,Qxc5,d6,Qxc3,Qf6,Bd2,Ne5,Nxe5,Qxe5,Qxc7,Qxe4+,Kd1,Bg4+,f3,Bxf3+,gxf3,Qxf3+,Kc2,Qe4+,Kb3,Qxh1,Qxd6,Qf3+,Nc3,Qf7+,Kc2,Rd8,Re1+,Ne7,Qe5,Qf5+,Qxf5,gxf5,Bg5,Rd7,Re5,Rf8,Ne2,Rf7,Nf4,Rc7+,Kb1,Kf8', 'Ne6+,Ke8,Nxc7+', 'https://lichess.org/training/5V9Zo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vcpU', 'Rapid', 'BiraGama', 2002, 'na10042011', 2034, 'e4,e6,e5,d5,exd6,cxd6,d4,Nc6,Nf3,f5,c3,d5,Bd3,Nf6,Bg5,Bd6,Nbd2,O-O,O-O,Qb6,Qb3,Ne4,Qxb6,axb6,a3,h6,Bh4,g5,Bg3,f4,Bxe4,dxe4,Nxe4,Be7,Bxf4,gxf4,h3,Bd7,Rfe1,Ra5,Ned2,b5,Ne5,Bc8,Ndf3,Bf6,Ng6,Re8,Nge5,Kg7,Rad1,Ne7,Nd3,Nd5,Nde5,Ra6,Rd2,Rd6,Rde2,Nb6,Nd3,Rd5,Nb4,Rd6,Ne5,Nd5,Nbd3,b6,Re4,Bg5,Nb4,Nf6,R4e2,Bb7,Kf1,Nd5,Nbd3,Bf6,Nf3,Nc7,Nde5,Bd5,Kg1,Bc4,Rd2,Nd5,Kh2,Nc7,Re4,Bg5,Re1,Bd5,h4,Bd8,Rg1,Kh7,g4,fxg3+,fxg3,Bf6,g4,Bxe5+,Nxe5,Rg8,g5,hxg5,hxg5,Be4,Rg4,Bf5,Rh4+,Kg7,Kg3,Nd5,Rg2,Rdd8,Kf3,Rh8,Rgh2,Rxh4,Rxh4,Rh8,Rxh8,Kxh8,Ke2,Kg7,Kd2,Be4,b3,Bh7,c4,bxc4,bxc4,Nc7,Nd7,b5,c5,Be4,Ne5,Nd5,c6,Kf8,Ke2,Ke7,Kf2,Nc7,Kg3,Kd6,g6,Ke7,Kf4,Bf5,Kg5,Bxg6,Kxg6,Kd6,Kg5,Kd5,Kf4,Kxd4,Nf7,Kc3,Ke5,Kb3,Kd6,Na6,Kxe6,Kxa3,Kd7,b4,Ne5,b3,Nd3,Ka2,c7,Nxc7,Kxc7,Kb1,Kc6', 'Kc2,Nc5,b2', 'https://lichess.org/training/5vcpU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vD0d', 'Rapid', 'PRESIDENT_TAL', 1977, 'Lamadang', 1934, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,Nf3,O-O,e3,h6,Bh4,c6,Be2,Nbd7,O-O,Ne4,Bxe7,Qxe7,Bd3,Nxc3,bxc3,b6,cxd5,exd5,Bc2,Bb7,Re1,Nf6,Ne5,Rac8,Bf5,Rc7,a4,Ne4,Bxe4,dxe4,a5,Rd8,axb6,axb6,Nc4,b5,Nd2,c5,Qb3,cxd4,cxd4,Bc6,Nf1,Rd5,Ng3,Rg5,Rec1,Qd7,Ra6,Rg6,Raa1,Qd5', 'Qxd5,Bxd5,Rxc7', 'https://lichess.org/training/5vD0d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vEuC', 'Blitz', 'henrylordwotton', 1645, 'mshanowitz', 1595, 'Nf3,Nc6,g3,e5,Bg2,Nf6,O-O,d5,d3,Be6,Nc3,Bd6,Ng5,Bf5,e4,dxe4,Ncxe4,Nxe4,Bxe4,Bxe4,Nxe4,O-O,Qh5,Be7,Bg5,Nd4,Bxe7,Qxe7,Ng5,h6,Ne4,Nxc2,Rac1,Nd4,Rc5,f5,Rfc1,Ne2+,Qxe2,fxe4,Qxe4,Qf6,Rf1,Rfe8,Rxc7,Rad8,Rxb7,Rd4,Qe3,Red8,Rb3,e4,dxe4,Qc6,e5,Re4,Qc3,Qe6,Qc7,Rd7,Rb8+,Kh7,Qc8,Rxe5,Qh8+,Kg6,Rb3,Re7,Qb8,Qd5,Qb4,Re1,Qg4+,Kh7,Rc3', 'Rxf1+,Kxf1,Qh1#', 'https://lichess.org/training/5vEuC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vi1B', 'Classical', 'EmreTR061', 1609, 'kenankenan', 1631, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,Nc3,Nd4,Qd3,c6,Nf3,b5,Bxb5,Nxb5,Nxb5,cxb5,Qxb5,Bd6,Nxe5,Nxe4,Qd5,Bxe5', 'Qxe5+,Qe7,Qxh8+', 'https://lichess.org/training/5vi1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vicF', 'Rapid', 'Voyager_TR', 1826, 'creative309', 1748, 'd4,d5,c4,e6,Nf3,Bb4+,Nc3,Bxc3+,bxc3,dxc4,e3,b5,a4,c6,h3,Ne7,axb5,cxb5,Be2,Nd5,Bb2,Nc6,e4,Nf6,Ne5,Nxe5,dxe5,Qxd1+,Rxd1,Nxe4,Bf3,Bb7,O-O,Rb8,Ra1,Nd2,Rfd1,Nxf3+,gxf3,Bxf3,Rd6,O-O,Rxa7,Rfd8,Rda6,Rd1+,Kh2,Rd2,Ba3,h5,h4,Bd5,Kg3,Rd3+,Kh2,Rxc3,Bb4,Rf3,Kg1,Rh3,Re7,Rxh4,Raa7,Rg4+,Kf1,h4,Rxf7,h3,f3,Rg6,Rf4,Rf8,Bxf8', 'h2,Rh4,Rg1+', 'https://lichess.org/training/5vicF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vkHL', 'Rapid', 'gursaado', 1703, 'glebdius', 1726, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Qe2,Nd6,Qxe5+,Be7,Bb3,O-O,d3,Nc6,Qg3,Nf5,Qg4,d6,O-O,Ne3,Qg3,Nxf1,Kxf1,Bf6,Bh6,Ne5,Nbd2,Ng6,Ne4,gxh6,Nxf6+,Qxf6,Re1,Be6,Bxe6,fxe6,c3,Qf5,Nd4,Qf4,Nxe6,Qxg3,hxg3,Rac8,Nxf8,Kxf8,f4,h5,d4,Re8,Rd1,Kf7,Kf2,Kf6,Kf3,Kf5,Rh1,h4,gxh4,Nxf4,g4+,Kg6,Kxf4,Re2,h5+,Kf6,g5+,Kg7,Rf1,Rxb2,Kf5,Rxa2,Ke6,Ra5,Rf7+,Kg8,g6,hxg6,hxg6,Rg5,Kf6,Rg3,g7,a5', 'Rf8+,Kh7,Rh8#', 'https://lichess.org/training/5vkHL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5VL3w', 'Rapid', 'enielson', 1749, 'Vatansever95', 1685, 'c4,e5,Nc3,Nf6,Nf3,Nc6,g3,Bb4,Qc2,O-O,Bg2,h6,O-O,Re8,a3,Be7,d3,d6,b4,Bd7,e3,a6,Bb2,Rb8,b5,axb5,Nxb5,Ra8,d4,exd4,Nfxd4,Nxd4,exd4,c6,Nc3,Qc8,Ne4,Bf5,Rfe1,Bd8', 'Nxf6+,Bxf6,Rxe8+,Qxe8,Qxf5', 'https://lichess.org/training/5VL3w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vMXG', 'Rapid', 'YAH80', 1847, 'latosyn', 2060, 'e4,c5,Nf3,d6,d3,Nf6,g3,a6,Bg2,e6,O-O,Nc6,Nbd2,Be7,Re1,O-O,h4,d5,e5,Nd7,Nf1,b5,N1h2,Bb7,Ng4,Qc7,Bf4,Qb6,h5,h6,Bxh6,gxh6,Qd2,c4,Qxh6,Qd8,Qf4,cxd3,cxd3,Nb4,Qd2,Rc8,Rac1,Nxa2,Rxc8,Bxc8,h6,Bb4,Qf4,Bxe1,Nf6+,Nxf6', 'Qg5+,Kh7,Qg7#', 'https://lichess.org/training/5vMXG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vOvy', 'Blitz', 'armitagefr59', 1792, 'il4teBosi', 1838, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,Bg5,c6,h3,b5,Bb3,b4,Bxf6,Bxf6,Ne2,a5,a3,Ba6,axb4,axb4,O-O,Nd7,c3,c5,e5,dxe5,dxe5,Nxe5,Rxa6,Rxa6,Nxe5,Bxe5,f4,Bf6,Ng3,bxc3,bxc3,Bxc3,Ne4,Bd4+,Kh1,Qb6,Ng5,Ra3,Bc4,Rg3,Qe1,Re3,Qh4,h5,f5,Bf6,fxg6,Bxg5,gxf7+,Kh7,Qxg5,Qh6', 'Qg8+,Rxg8,fxg8=Q#', 'https://lichess.org/training/5vOvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vp4o', 'Blitz', 'random_fan', 2354, 'limosity', 2325, 'Nf3,d5,g3,Nc6,Bg2,e5,d3,f5,O-O,Nf6,c4,e4,Nfd2,Be6,cxd5,Bxd5,Nc3,e3,Nxd5,Nxd5,Qb3,exd2,Bxd5,dxc1=Q', 'Bf7+,Kd7,Qe6#', 'https://lichess.org/training/5vp4o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vPhh', 'Blitz', 'IM bazar-wokzal', 2532, 'niEtzscheSS2020', 2312, 'g4,d6,Bg2,e5,d4,exd4,Qxd4,Nc6,Bxc6+,bxc6,Nf3,Ne7,Nc3,Ng6,h4,f6,h5,Ne5,Nxe5,fxe5,Qc4,Bd7,h6,g6,Bd2,d5,Qa6,Bc5,O-O-O,O-O,f3,Rb8,Na4,Bd6,c4,Bc8,Qxc6,Bb7,Qb5,a6,Qa5,dxc4,Be3,Qe7,Qc3,Qf7,Kb1,Bc6,Nc5,Rb5,Ne4,Rfb8,Bc1,Bb4,Qc2,Be7,Rd2,Ra5,Rhd1,Ba4,Qc3,Bxd1,Rxd1,Rab5,g5,Qe6,Nf6+,Bxf6,gxf6,Kf7,Rd2,Kxf6,Rc2,Kf7,f4,R8b6,fxe5,Qxe5,Qxc4+,Qd5,Qxc7+,Ke6,Qxh7,Qf5,Qg8+,Kf6,Qg7+,Ke6,Qg8+,Ke7,h7,Rc6,Qg7+,Ke6,e4,Qxe4,Qg8+,Ke7,Bg5+,Rxg5,Qg7+,Ke6,Qg8+,Kf5,Qf7+,Kg4,Qd7+,Rf5,Qd1+,Kg5,h8=Q', 'Qxc2+,Qxc2,Rf1+,Qc1+,Rfxc1#', 'https://lichess.org/training/5vPhh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vRHD', 'Rapid', 'mrnouroozi', 1716, 'aerive', 1925, 'd4,d5,Nc3,Nf6,Bf4,e6,Nb5,Na6,e3,Bd7,Nf3,c6,Nc3,Bb4,Bxa6,bxa6,Qd3,Ne4,a3,Bxc3+,bxc3,Bc8,c4,O-O,O-O,f6,cxd5,exd5,Nd2,Bf5,Nxe4,Bxe4,Qc3,Qd7,f3,Bg6,Rab1,Rfc8,Rb3,Qf5,Rb2,h6,Rfb1,Kh7,Rb7,Qxc2,Qb4,Bf5,Qe7,Rg8,Qxf6', 'Qxb1+,Rxb1,gxf6', 'https://lichess.org/training/5vRHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vrtF', 'Blitz', 'manchessther', 1856, 'RobHetz', 1845, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c4,Qa5+,Qd2,Qxd2+,Kxd2,Bg5+,Kd3,O-O,h4,Bh6,f3,f5,Be2,fxe4+,fxe4,Nd4,Raf1,Nxe2', 'Ne7+,Kh8,Rxf8#', 'https://lichess.org/training/5vrtF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Vsl6', 'Rapid', 'Harsha-96_76', 1916, 'Coco1981', 1810, 'e4,e5,Nf3,d6,Bc4,Bg4,d3,Nf6,h3,Bh5,Be3,Nc6,Nbd2,Na5,Bb3,Nxb3,axb3,Be7,Bxa7,b6,Ra2,Qc8,Qa1,Qb7,Ra6,Nd7,Qa4,b5,Qa1,O-O,Ra2,c5,O-O,Rfc8,c4,b4,Nh2,Be2,Re1,Bxd3,Re3,Bc2,Qc1,Bg5,Rg3,Bxd2,Qxd2,Bxb3,Ra1,Rxa7,Rxa7,Qxa7,Rxb3,Nf6,Qxd6,Nxe4,Qxe5', 'Qa1+,Nf1,Nd2,Re3,Qxf1+', 'https://lichess.org/training/5Vsl6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vSL8', 'Rapid', 'fogof', 2127, 'The_Illumined', 2061, 'e4,c5,Nf3,e6,c4,d6,Nc3,Nf6,d4,cxd4,Nxd4,b6,Be3,Bb7,f3,Nbd7,Rc1,Be7,Be2,O-O,O-O,Rc8,Qd2,a6,Rfd1,Qc7,g4,Kh8,g5,Ng8,f4,Rfe8,f5,Bf8,fxe6,fxe6,Bg4,Nc5,Qg2,a5,a3,a4,Ndb5,Qb8,Bxc5,bxc5,Nxa4,Rcd8,Nac3,d5,exd5,exd5,Nxd5,Bxd5,Rxd5,Rxd5,Qxd5,Qf4,Qd1,Qxg5,Kh1,Nf6,Bf3,Ne4,Bxe4,Rxe4,Nc3,Rxc4,Ne2,Rg4,Rc3,Qf5,Ng3,Qc8,Rf3,Qb7,Kg1,Be7', 'Qd8+,Bxd8,Rf8#', 'https://lichess.org/training/5vSL8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Vt3c', 'Rapid', 'Realistik', 1650, 'shimc', 1681, 'a4,e5,b3,d6,Bb2,Nc6,e3,a6,Nf3,h6,h3,Nf6,Be2,Be6,O-O,Qd7,d4,exd4,Nxd4,Bxh3,gxh3,Qxh3,Nxc6,bxc6,Bxf6', 'gxf6,Bg4,Rg8', 'https://lichess.org/training/5Vt3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5VU8t', 'Blitz', 'jamshid_t', 1839, 'WIM ChessDonkey', 2378, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bd3,O-O,Nge2,Nbd7,O-O,a6,f4,e5,d5,Nc5,Bc2,exf4,Nxf4,Re8,Re1,Bg4,Qd2,Qe7,h3,Bd7,b4,Ncxe4,Bxe4,Nxe4', 'Rxe4,Qxe4,Nxe4', 'https://lichess.org/training/5VU8t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vufz', 'Classical', 'cro_bishop', 1836, 'maxim001454', 1784, 'd4,d5,c4,dxc4,e3,c5,Bxc4,cxd4,Qxd4,Nc6,Qxd8+,Nxd8,Nc3,Nf6,Nb5,Kd7,Nf3,a6', 'Ne5+,Ke8,Nc7#', 'https://lichess.org/training/5vufz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5vUma', 'Rapid', 'Musibala', 2096, 'tbunji', 2236, 'f4,e5,fxe5,d6,exd6,Bxd6,Nf3,g5,g3,g4,Nh4,Ne7,d4,Nbc6,e4,Nxd4,Qxd4', 'Bxg3+,hxg3,Qxd4', 'https://lichess.org/training/5vUma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Vy9y', 'Blitz', 'olliweihra', 1681, 'NEKCITA_OP', 1957, 'e4,b6,Bc4,Bb7,d3,g6,Bf4,Bg7,c3,e5,Bg3,Nf6,Nf3,Nc6,O-O,O-O,b4,Nh5,Bh4,Bf6,Bg3,Nxg3,hxg3,Bg7,Nh2,Ne7,f3,d5,Bb3,c6,Kf2,f5,Rh1,fxe4,dxe4,Kh8,Qc2,dxe4,Qxe4,Qc7,Ng4,c5,Qe1,e4', 'Rxh7+,Kxh7,Qh1+,Bh6,Qxh6#', 'https://lichess.org/training/5Vy9y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5W3hX', 'Rapid', 'grifoman', 1829, 'onyimates', 1816, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nf3,Nc6,Nc3,e6,Bd3,Bb4,O-O,Bd7,Be3,O-O,e5,Be7,a3,h6,Rc1,Nd5,Nxd5,exd5,Qd2,g5,Qc2,Kg7,Qb3,Bc8,Bb5,Rh8,Bxc6,bxc6,Rxc6,Bg4,Nd2,Rb8,Qc2,Rb7,f3,Bh5,Nb3,Qd7,Re1,Bg6,Rxg6+,fxg6,Nc5,Bxc5,dxc5,c6,Bd4,Qe6,Qa4,Kh7,Qa6,Rhb8,h3,Qf5,Re2,Qb1+,Kf2,Qd1,Bc3,h5,Qxc6,g4,Rd2,g3+,Kxg3,Qe1+,Rf2', 'h4+,Kh2,Qxf2', 'https://lichess.org/training/5W3hX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5W4rS', 'Rapid', 'maracatrehn', 1621, 'Rafa-666', 1660, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,d5,exd5,Nxd5,Bxd5,Qxd5,O-O,Bxc3,bxc3,Bg4,Qe1+,Ne7,Ne5,Be6,Ba3,f6,Bxe7,Kxe7,Nd3,Rhe8,Qe3,Kd7,Nc5+,Kc6,Rfe1,Bd7,Qc1,b6,Nxd7,Kxd7,Rxe8,Rxe8,Qa3,a5,Qa4+,c6,c4,Qxd4,Rd1,b5,cxb5', 'Re1+,Rxe1,Qxa4', 'https://lichess.org/training/5W4rS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5WC7p', 'Rapid', 'Duke26', 1801, 'Radmip', 1759, 'e4,e5,Nf3,d6,h3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,e5,Nh5,Be2,g6,Bxh5,gxh5,O-O,Rg8,Re1,Be7,Re3,dxe5,Qxd8+,Bxd8,Rxe5+,Be7,Bg5', 'Rxg5,Rxg5,Bxg5', 'https://lichess.org/training/5WC7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5wCNo', 'Rapid', 'bakr12', 1845, 'Sir_Lekhnath1', 1960, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,h3,Nf6,d3,Be6,Bb3,d5,exd5,Nxd5,O-O,O-O,Re1,Bd6,Nbd2,Bxh3,gxh3,Nf4,Kh2,Nxd3,Re4,Nxf2,Qe2,Nxe4,Qxe4,Qf6,Nc4,Rad8,Bg5,Qg6,Qxg6,hxg6,Bxd8,e4+,Nxd6,cxd6,Ng5,Nxd8,Bxf7+,Nxf7,Nxe4,Ne5,Nxd6,Rf2+,Kg3,Rxb2,a4,Rc2,Nxb7,Rxc3+,Kf4,Nc4,h4,Rb3,Nc5,Rb4,Kg5,Nd6,Kxg6,Rxh4,Rd1,a5,Rxd6', 'Rh6+,Kf5,Rxd6', 'https://lichess.org/training/5wCNo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5WgMc', 'Blitz', 'FM Leo_Pecnik', 2369, 'HarolitoHL', 2054, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,g6,e5,dxe5,Nxe5,e6,d4,cxd4,Bb5+,Bd7,Qxd4,Bg7,Nxd7,Nbxd7,Bxd7+,Qxd7,Qxd7+,Kxd7,Bf4,Rhd8,O-O-O+,Ke7,Be5,a6,f3,b5,Ne4,Nxe4,Bxg7,Rxd1+,Rxd1,Nd6,Bc3,Nc4,b3,Ne3,Bb4+,Kf6,Rd2,Nd5,Bc5,Rc8,Bd4+,Ke7,Kb2,f6,Bf2,b4,Rd4,a5,Be1,Kd6,c4,bxc3+,Bxc3,e5,Rd3,Rxc3,Rxc3,Nxc3,Kxc3,f5,Kc4,g5,g4,f4,a3,h6,b4,axb4,axb4,Kc6,h3,Kd6,b5,Ke6,Kd3', 'Kd5,b6,Kc6,Ke4,Kxb6', 'https://lichess.org/training/5WgMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5wicJ', 'Rapid', 'NGorski', 1825, 'Betofabpuhl_1970', 1836, 'c4,e5,Nc3,d6,e3,Be7,Nf3,c6,d4,exd4,exd4,Nf6,h3,O-O,Bd3,h6,O-O,Nbd7,Re1,Re8,b3,a6,Bb2,Nf8,d5,cxd5,cxd5,b5,Rc1,Bb7,Bb1,b4,Ne4,Nxd5,Qd4,Nf6,Qxb4,Nxe4,Qxb7,Nc5,Qd5,Nfe6,b4,Na4,Qe4,g6,Ba1,Bf8,Qc6,Nb6,Red1,Rc8,Qe4,Rxc1,Rxc1,Ng5,Qd4,Nxf3+,gxf3,Re5,Rd1,Bg7,Qf4,Rg5+,Kh2,Bxa1,Rxd6,Qb8', 'Rxg6+,Rxg6,Qxb8+', 'https://lichess.org/training/5wicJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5wiYv', 'Rapid', 'P4P3RCU7', 1654, 'DarthVitiate', 1638, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,O-O,d6,Nc3,a6,Nd5,Nf6,c3,Nxd5,Bxd5,Qf6,d4,exd4,cxd4,Nxd4,Nxd4,Bxd4,Be3,Bxb2,Rb1,Be6,Bxb7,Rb8,Bc6+,Kd8,Rxb2,Rxb2', 'Bd4,Rb4,Bxf6+', 'https://lichess.org/training/5wiYv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Wj5x', 'Rapid', 'franckonjar', 1692, 'johning', 1796, 'e4,c5,Nc3,Nc6,Nf3,g6,Bc4,Bg7,O-O,e6,Nb5,d5,exd5,exd5,Re1+,Be6,Bf1,a6,Nc3,Nf6,d4,c4,Bg5,O-O,Ne5,Qc7,Bxf6,Bxf6,Nf3,Qb6,Na4,Qa5,b3,Bg4,Be2,b5,Nc5,Qc3,h3,Bf5,Rc1,Nxd4,Nxd4,Bxd4,Nb7,Rab8,Nd6,Be6,bxc4,dxc4', 'Ne4,Rfd8,Nxc3', 'https://lichess.org/training/5Wj5x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5wLBP', 'Rapid', 'rohanp24', 1668, 'Phyren', 1722, 'e4,Nc6,d4,d5,Bb5,e6,e5,Ne7,Nf3,a6,Ba4,b5,Bb3,Na5,Bg5,h6,Bh4,Qd7,c3,Nxb3,axb3,Nf5,O-O,Nxh4,Nxh4,Be7,Nf3,O-O,h3,c5,Nh2,cxd4,cxd4,Bb7,Qf3,Rac8,Qg3,Rc2,Ng4,Kh7,Ra2,Rfc8,Nc3,Bb4,Qd3+,Kh8,Qxc2,f5,Ne3,a5,Qd3,Bxc3,bxc3,b4,c4,dxc4,bxc4,f4,Ng4,Ba6,Rc1,a4,d5,exd5,Qxd5', 'Qxd5,cxd5,Rxc1+', 'https://lichess.org/training/5wLBP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5wMRa', 'Classical', 'Ahmadsherif505', 1744, 'sherifosman111', 1785, 'd4,d5,f3,Bf5,Nd2,e6,e4,dxe4,Nxe4,Nf6,Bd3,Nxe4,Bxe4,Bxe4,fxe4,Be7,Be3,c6,Ne2,O-O,O-O,Nd7,Rf3,c5,d5,exd5,exd5,Bf6,c3,b6,Qc2,Ne5,Rh3,g6,Re1,Qxd5,Bh6,Rfe8,Nf4,Qxa2,Rhe3,Bg7', 'Bxg7,Kxg7,Rxe5,Rxe5,Rxe5', 'https://lichess.org/training/5wMRa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5WmsZ', 'Blitz', 'samsaraaa', 1624, 'Procosmo', 1647, 'e4,e6,d4,d6,f4,Bd7,Nf3,Be7,Bd3,f6,O-O,Nc6,Nc3,a6,a4,h5,a5,Nb4,Ne2,Nxd3,Qxd3,Bb5,c4,Bc6,d5,exd5,exd5,Bd7,Qg6+,Kf8,b3,Rh6,Qe4,Qe8,Bb2,Qg6,Qe3,Bh3,Rf2,Re8,Kh1,Bg4,Nh4,Qh7,Re1,f5,Ng3,g6,Qe6,Qf7,Qd7,Bxh4', 'Rxe8+,Qxe8,Qg7#', 'https://lichess.org/training/5WmsZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5wNmB', 'Rapid', 'artase', 1864, 'plutho', 1848, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Nbd7,g4,Ne5,g5,Nfd7,f4,Nc6,Be3,Nxd4,Qxd4,Nc5,O-O-O,Nxb3+,axb3,Bd7,h4,Rc8,Rhe1,Qc7,Re2,Bc6,Nd5,exd5,exd5,Bd7,Bd2+,Kd8,Bc3,Bg4,Rde1,Bxe2,Rxe2,Be7,Qxg7,Re8,Qxf7,Qd7,Ba5+,b6,Bxb6+,Rc7,f5,Kc8,Bxc7', 'Bxg5+,hxg5,Qxf7', 'https://lichess.org/training/5wNmB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5wp6R', 'Rapid', 'AndrewDolzh', 1632, 'nickky', 1615, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,a6,Bc4,d6,Qf3,Nf6,Bg5,Be7,O-O,O-O,Qg3,Nh5,Bxe7,Qxe7,Qf3,Nf6,h3,b5,Bb3,Bb7,a3,c5,Re1,Qd7,Nd2,a5,Qe2,a4,Ba2,Ba6,e5,dxe5,Qxe5,Rac8,Ne4,Nxe4,Rxe4,b4,axb4,cxb4,Rxd4,Rfe8,Qf4,Qe7,Re4,Qb7,Rae1,Rxe4,Rxe4,b3,cxb3,axb3,Bb1,g6,Qf3,Rc1+,Kh2,Qc7+,g3,Rxb1,Re8+,Kg7,Qd5,Rxb2', 'Qd4+,f6,Qxb2', 'https://lichess.org/training/5wp6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5WPh2', 'Rapid', 'BCD-Azwareu', 1989, 'Salazar75', 1940, 'e4,d6,d4,Nf6,e5,Nd5,Bc4,Nb6,Bb3,e6,Nf3,g6,O-O,Bg7,Bg5,Qd7,Nc3,O-O,Qd2,Re8,Bh6,Bh8,Bg5,Bg7,Bf6,Bf8,Ng5,h6,Qe3,dxe5,dxe5,Nc6,Rad1,Nd5,Nxd5,exd5,Rxd5,Qf5,Nh3,Be6,Rc5,Bxb3,axb3,Bxc5', 'Qxh6,Qxf6,exf6', 'https://lichess.org/training/5WPh2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5wPhK', 'Rapid', 'Penanliha', 1608, 'dumais', 1606, 'e4,c5,Bc4,d6,Nf3,Bg4,Nc3,Nc6,h3,Bh5,g4,Bg6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,f4,Ne7,Be3,a6,O-O-O,d5,exd5,exd5,Nxd5,Nxd5,Bxd5,Qc7,Qe5+,Qxe5,fxe5,O-O-O,Bxb7+,Kc7,Rxd8,Kxd8,Rd1+,Kc7,Bxa6,Be7,Bf4,Kb6,Bd3,Bxd3,Rxd3,g5,Be3+,Bc5,Rd6+,Kb5,a4+,Kc4,b3+,Kb4,c3+,Kxc3,Bxc5,Kxb3,a5,Rc8,Rb6+,Ka4,Rb4+,Kxa5,Rc4,Kb5,Rc2', 'Rxc5,Kd2,Rxc2+', 'https://lichess.org/training/5wPhK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5WpjZ', 'Classical', 'JimmyBurr05', 1706, 'EtoVito', 1680, 'e4,c5,Nc3,Nf6,Nf3,d6,Bb5+,Bd7,Qe2,Qb6,Bxd7+,Nbxd7,Qb5,Nxe4', 'Qxb6,axb6,Nxe4', 'https://lichess.org/training/5WpjZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5wRbX', 'Rapid', 'CALTONOVISH', 1918, 'GodChamar', 1662, 'e4,c6,d4,d5,exd5,cxd5,c4,dxc4,Bxc4,Nf6,Nc3,Nc6,Nge2,Bg4,f3,Bf5,O-O,e6,Be3,Be7,Bf2,O-O,Ng3,Bg6,Bb3,Nb4,a3,Nc6,d5,Nxd5,Nxd5,exd5,Qxd5,Na5,Ba2,b6,Qd1,Bf6,Qxd8,Raxd8,Ne4,Bxb2,Rab1,Bxa3,Rfd1,Kh8,Bh4,Rxd1+,Rxd1,Bxe4,fxe4,f6,Rd7,Bc5+,Kf1,Nc6,Rc7,Nd4,Rxa7,Nb5,Rd7,Nc3,Bb3,Nxe4,h3,Ng5,Be1,Re8,Bd2,Ne4,Bf4,Nc3,Bf7,Ra8,g3,Nb5,Bd5,Re8,Bc6,Nd4', 'Rxd4,Re1+,Kxe1', 'https://lichess.org/training/5wRbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5WrId', 'Classical', 'kvakos', 1670, 'DANILOOOTUTU', 1684, 'e4,c5,Nc3,Nc6,b3,g6,Nf3,Bg7,Bb2,e6,Bb5,Nge7,O-O,O-O,Re1,d5,e5,a6,Bf1,b5,Qe2,f6,Nd1,fxe5,Nxe5,Nxe5,Bxe5,Bxe5,Qxe5,Nc6,Qg3,Nd4,Ne3,Qf6,Be2', 'Nxe2+,Rxe2,Qxa1+', 'https://lichess.org/training/5WrId');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ws9b', 'Rapid', 'sodii123', 1761, 'piuly', 1723, 'e4,e5,d4,exd4,Nf3,Nf6,e5,Nd5,Qxd4,Ne7,e6,dxe6,Qxd8+,Kxd8,Ne5,Ke8,Be2,Ng6,Nxg6,hxg6,O-O,Bd6,h3,Nc6,Nc3,Nd4,Bd3,g5,Be3,Nf5,Bxf5,exf5,Bxg5,f6,Rfe1+,Kf7,Be3,g5,Rad1,g4,hxg4,fxg4,g3,b6,Nb5,Be5,Bd4,Bb7,f4,gxf3,Bxe5,fxe5,Rd7+,Ke6,Rxc7,f2+,Kxf2,Raf8+,Ke3,Rf3+,Kd2,Rf2+,Kd3,Ba6,c4,Rd8+,Kc3,Rdd2,Rc1,Rxb2,a4,Ra2,Rxa7', 'Rf3+,Kb4,Rb2#', 'https://lichess.org/training/5ws9b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5WShl', 'Blitz', 'ChessNarciso', 1953, 'glasses108', 2028, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Nxd4,Nf6,Nxc6,bxc6,e5,dxe5,Bxf7+,Ke7,Qxd8+,Kxd8,Nc3,Ba6,Bg5,Bb4,O-O-O+,Ke7,Bb3,Bxc3,bxc3,c5,Rhe1,c4,Rxe5+,Kf7,Ra5,cxb3,Rxa6,bxa2,Bxf6,gxf6,Rxa2,Rhe8,Rd2,Re1+,Kb2,c5,Kb3,Re4,c4,Rb8+,Kc3,Rb4,Rxa7+,Kg6,Rc7,Rbxc4+,Kd3,Rcd4+,Kc3,Rc4+,Kb3,Rb4+,Ka2', 'Ra4+,Kb1,Reb4+,Kc1,Ra1#', 'https://lichess.org/training/5WShl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5WTsD', 'Blitz', 'calonsarjana', 1848, 'anisa_aa', 2002, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Bc5,Bc4,O-O,O-O,h6,Kh1,d6,f4,Ng4,Qf3,a5,h3,Nf6,e5,Ne8,Qxc6,Bd7,Qf3,Rb8,b3,Rb6,Bd2,Bc6,Qe2,dxe5,fxe5,Qe7,Bf4,Bd4,Qd3,Qd7,Rad1,Rb8,Qxd4', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/5WTsD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5WuB5', 'Rapid', 'moussarachid', 1729, 'uniquereader', 1669, 'e4,c5,f4,e6,Nf3,Nc6,Nc3,a6,d4,g6,Be3,cxd4,Nxd4,Bg7,Nxc6,bxc6,Bd4,Nf6,Bd3,O-O,O-O,d5,exd5,cxd5,g4,Qc7,g5,Nh5,Bxg7,Kxg7,f5,Qc5+,Kh1,exf5,Bxf5,Bxf5,Rxf5,gxf5,Qxh5,d4,Ne2,Qxc2,Nf4,Qe4+,Ng2,Rac8,Re1,Qg4,Qh6+,Kg8,Rg1,Qf3,Qxa6,Rc2,Qb6,Rf2,Qxd4,Rf1,b4,Rxg1+,Qxg1,Ra8,Qe1,Rxa2,Qe8+,Kg7,Qe5+,Kg6', 'Qf6+,Kh5,Qh6+,Kg4,Qh4#', 'https://lichess.org/training/5WuB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5WUpo', 'Classical', 'liv52', 1765, 'lotusnaga', 1804, 'd4,Nf6,Nc3,e6,a3,Be7,e4,O-O,e5,Ne8,Bd3,f6,f4,d6,Be3,dxe5,dxe5,f5,Qh5,c6,O-O-O,Qa5,b4,Qxa3+,Kd2,Bxb4,Ne2,Nd7,Ra1,Bxc3+,Nxc3,Qe7,g4,Nef6,exf6,Nxf6,Qh4', 'Ne4+,Nxe4,Qxh4', 'https://lichess.org/training/5WUpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5wvlR', 'Rapid', 'Rafa14011', 1833, 'scpcdrc', 1830, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qe6+,Be2,h6,O-O,Bd7,Re1,Qg6,Nd5,O-O-O,d4,e6,Bd3,Qh5,Nf4,Qa5,b3,g5,Ne2,Bd6,a4,e5,Bd2,Qd5,Bc4,Qe4,Nc3,Qf5,dxe5,Nxe5,Nxe5,Bxe5,Nb5,Bxb5,axb5', 'Bxa1,Qxa1,Rxd2', 'https://lichess.org/training/5wvlR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5WvUi', 'Rapid', 'MrRee', 1969, 'chesskingboy01', 2093, 'c4,Nf6,d4,e6,Nc3,Bb4,Bd2,b6,a3,Be7,e4,d6,Nf3,h6,Bd3,Nbd7,O-O,O-O,Re1,e5,d5,Re8,Qc2,Nf8,b4,a5,b5,Ng6,a4,Bg4,Be2,Nh5,h3,Bxf3,Bxf3,Nhf4,Kh2,Nh4,Bxf4,Nxf3+,gxf3,exf4,Rg1,Bf6,Rg2,Bxc3,Qxc3,Re5,Rag1,g6,Rg4,g5,h4,f6,Rxf4,Kf7,Rfg4,Qh8,Qd3,Rae8,f4,Rxe4,fxg5,Rxg4,Rxg4,hxg5,Kg3,Re5,hxg5,Rxg5', 'Rxg5,fxg5,Qf5+,Ke7,Qxg5+', 'https://lichess.org/training/5WvUi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5wxVs', 'Rapid', 'azuaga', 2021, 'angelo1968', 1926, 'e4,d6,Nf3,e5,d4,Nc6,Nc3,Bg4,dxe5,h6,exd6,Bxd6,Be2,Qe7,Be3,O-O-O,Qc1,g5,Nd5,Qxe4,c4,Bb4+,Kf1,f5,a3,Bd6,b4,f4,b5,Ne5,Bxa7,Bxf3,Bxf3,Nxf3,gxf3,Qxf3,Rg1,Qh3+,Ke2,f3+,Kd3,Qf5+,Kc3,Be5+,Kb3,Bxa1,Qxa1,c6,Nb6+,Kc7,Qxh8,Ne7,Qg7,Qd3+,Qc3,Qe2,Qc2', 'Rd3+,Kb2,Rd2', 'https://lichess.org/training/5wxVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5x21V', 'Rapid', 'Tihany', 1705, 'NDestroyer5237', 1726, 'e4,e5,d4,Nc6,d5,Nb8,f4,c6,c4,cxd5,cxd5,exf4,Bxf4,Nf6,Bd3,Bb4+,Nc3,d6,Nf3,Bg4', 'Qa4+,Nbd7,Qxb4', 'https://lichess.org/training/5x21V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5x2np', 'Classical', 'buddhubaccha', 1897, 'tayyipharputlu', 1756, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,a6,Ba4,b5,Bb3,Bg4,c3,Nf6,h3,Bh5,g4,Bg6,Bg5,h6,Bh4,Bxe4,Nbd2,g5,dxe5,Bxf3,Qxf3,Nxe5,Qf5,gxh4,Ne4,Bg7,O-O-O,O-O,g5,Nxe4,gxh6,Bxh6+,Kb1,Nd2+,Rxd2,Bxd2', 'Rg1+,Qg5,Rxg5+,Bxg5,Qxg5+', 'https://lichess.org/training/5x2np');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5X4DC', 'Rapid', 'ROI52', 1905, 'amineqa', 1950, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,a3,Be7,Be2,O-O,O-O,Bg4,Be3,Bxe2,Nxe2,Ng4,Bf4,Bf6,Qb4,g5,Bg3,h5,h3,Ne5,Rab1,b6,f4,Nc6,Qb5,Nd4,Nxd4,Bxd4+,Kh1,gxf4,Bxf4,Qh4,Bg5,Qxe4,Bh6,Bg7,Bxg7,Kxg7,Qg5+,Qg6,Qe7,Rae8,Qxc7,Re2,Rg1,Rxc2,Qxa7,Re8,Qxb6,Ree2,Qd4+,f6,Qa7+,Kh6,Qb7,Qf5,Rbf1', 'Qxh3+,gxh3,Rh2#', 'https://lichess.org/training/5X4DC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5X6Mf', 'Blitz', 'IM ENERGIE73', 2400, 'FM Chess3054', 2472, 'd4,Nf6,c3,d5,Bf4,g6,e3,Bg7,Be2,O-O,h4,c5,h5,Nc6,hxg6,fxg6,Nf3,Ne4,Nbd2,Nxd2,Qxd2,Bg4,Ng5,Bxe2,Qxe2,Qd7,Nxh7,Rf5,Qg4,Qe8,Qh3,e5,dxe5', 'Rh5,Qxh5,gxh5,Nf6+,Bxf6', 'https://lichess.org/training/5X6Mf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5x6mr', 'Rapid', 'notarealbanana', 1715, 'skalak', 1674, 'e4,e6,d4,Be7,Nf3,h6,Bd3,d6,O-O,Nd7,c3,g5,Be3,b6,Nbd2,Bb7,d5,e5,c4,Ndf6,Rc1,Nh7,c5,bxc5,Qb3,Bc8,Bb5+,Bd7,Bxd7+,Qxd7,Qb7,Qc8,Qc6+,Kf8,Nb3,Ngf6,Nfd2,Kg7,Qb5,Rg8,Qe2,Kh8,h4,Rg7,hxg5,hxg5,Nf3,Qg4,Na5,Nxe4,Nc6,Bf6,Qd3,Re8,Rc4,Nxf2,Rxf2,Qh5,Qf5,Bd8,Qd7,Nf6,Qf5,e4,Nxd8,exf3,Qxf6,Rxe3,Rxf3,Re1+,Rf1,Rxf1+,Qxf1,Qg6,Qe2,Rg8,Qe7,Kg7,Ne6+,Kh8,Nf8,Qb1+,Kh2,Qxb2,Qxf7,Qe5+,Kg1,Qe1+,Qf1', 'Qxf1+,Kxf1,Rxf8+', 'https://lichess.org/training/5x6mr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5x8IR', 'Blitz', 'pashpawn', 2258, 'richardsuarez83', 2232, 'd4,Nf6,Nc3,d5,Bg5,Nbd7,f3,c5,dxc5,Qa5,Qd2,Qxc5,e3,e6,Bd3,Be7,Nge2,O-O,O-O-O,Ne5,Kb1,Nxd3,cxd3,d4,exd4,Qa5,Ne4,Bb4,Qc1,Nd5,h4,Bd7,Nc5,Bc6,a3,h6,axb4,Nxb4,Qc3,hxg5,hxg5,Bd5,Qa3,Ba2+,Ka1,Nc2+,Kxa2,Nxa3,bxa3,b6,Nb3,Qd5,Nc3,Qxg5,Ne4,Qxg2+,Ka1,Qc2', 'Nf6+,gxf6,Rdg1+,Qg2,Rxg2#', 'https://lichess.org/training/5x8IR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5x8lq', 'Classical', 'genbrid', 1856, 'COYG1234', 1868, 'd4,Nf6,Nf3,e6,Nc3,b6,e4,Bb7,e5,Nd5,Ne2,Nc6,c4,Nde7,Ng3,d5,Bg5,h6,Be3,Ng6,Bd3,Bb4+,Nd2,O-O,a3,Bxd2+,Qxd2,Nge7,Bxh6,Nxd4,Bxg7,Kxg7,Qg5+,Ng6,Nh5+,Kh7,Nf6+,Kg7,h4,dxc4,Bb1,Rh8,h5,Nb3,Bxg6,Nxa1,Bxf7+,Kxf7,Qg6+,Kf8,O-O,Nb3,h6,Qe7,h7,Rd8', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/5x8lq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5XaQ8', 'Rapid', 'Siavash_IR', 1810, 'Zaplji', 2072, 'e4,d6,Nc3,Nf6,Nf3,e5,Bc4,Be7,d3,O-O,Bg5,Nbd7,Qd2,c6,h4,b5,Bb3,a5,a4,Bb7,axb5,Nc5,bxc6,Nxb3,cxb3,Bxc6,O-O,h6,Bxh6,gxh6,Qxh6,Nh7,Ne2,Bf6,Ng3,Bg7,Qh5,Bd7,Ng5,Nxg5,hxg5,f6,f4,exf4,Rxf4,fxg5,Rxf8+,Qxf8,Qxg5,Qf6', 'Qd5+,Kh7,Qxa8', 'https://lichess.org/training/5XaQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Xbrt', 'Blitz', 'doctorphantomas', 1572, 'thompson4423', 1524, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Qe7,Nc3,Nf6,d3,h6,h3,d6,Re1,O-O,a3,Nd4,Nxd4,Bxd4,Ne2,Nh7,Nxd4,exd4,c3,dxc3,bxc3,Qf6,Bb2,Qg6,Qf3,Nf6,d4,Be6,Bd3,Qg5,Bc1,Qa5,e5,dxe5,dxe5,Nh7,Qg3,g5,h4,Kh8,hxg5,Rg8,Qh4,Qxc3,Bxh7', 'Qxe1+,Kh2,Qxe5+,Bf4,Qxa1', 'https://lichess.org/training/5Xbrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Xdw5', 'Classical', 'alexden87', 1792, 'sevenchanger1986', 1954, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Nf6,d3,Be7,O-O,O-O,Nc3,Be6,a3,Qd7,Nh2,Rab8,Re1,h6,Rb1,Nh7,Be3,a6,d4,exd4,Bxd4,c5,Be3,f5,exf5,Rxf5,Ne4,Ng5,Ng3,Rf7,Bxg5,Bxg5,Ne4,Bh4,Nf3,Rxf3,Qxf3,Rf8,Qe3,Qf7,Rf1,Bc4,Rfe1,d5,Nxc5', 'Bxf2+,Qxf2,Qxf2+', 'https://lichess.org/training/5Xdw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5xeG9', 'Rapid', 'Ana_Safa7', 1815, 'anandes', 1934, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,d6,c3,Bg4,h3,Bh5,d3,O-O,Nbd2,h6,Nf1,Na5,Bc2,c5,Ng3,Bg6,d4,cxd4,cxd4,exd4,Nxd4,Nc4,Ndf5,Re8,Bf4,Ne5,Nxe7+,Rxe7,Nf5,Bxf5,exf5,Rc8,a4,Nc4,Rxe7,Qxe7,axb5,axb5,Qd4,Ne5,Bb3,Nh5,Bh2,Qg5,Kh1,Rd8,Qd5,Qxf5,g4,Qxf2,Bxe5,Ng3+,Bxg3,Qxg3,Qxf7+,Kh8,Be6,Qxh3+,Kg1,Qg3+,Kf1,Qd3+,Kg2,Qe2+,Kg3,Qe3+,Kh4,Qg5+,Kh3,Qe3+,Kg2,Qe2+,Kg1,Qe3+,Kf1,Qd3+,Ke1,Qe3+,Kd1', 'Qg1+,Kc2,Qxa1', 'https://lichess.org/training/5xeG9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5XG7d', 'Rapid', 'Mikhail_Mityanin', 2010, 'cabbada', 1757, 'e4,e5,Nc3,Bc5,Na4,Bb6,Nf3,Nc6,Nxb6,axb6,Bb5,d6,h3,Nf6,Qe2,O-O,d3,Nd4,Nxd4,exd4,Bg5,Re8,Qf3,c6,Bxf6,Qxf6,Qxf6,gxf6,Bc4,b5,Bb3,f5,f3,fxe4,fxe4,Kg7,O-O,Rf8,a3,Be6,Bxe6,fxe6,Rxf8,Rxf8,Rf1,Rxf1+,Kxf1,Kf6,Kf2,Kg5,Kg3,h5,h4+,Kf6,Kf4,e5+,Kf3,d5,b3,dxe4+,Kxe4,Ke6,a4,b4,a5,Kf6,g3,Ke6,Kf3,Kf5,Kg2,Kg4,Kf2,Kf5,Kf3,Ke6', 'g4,hxg4+,Kxg4', 'https://lichess.org/training/5XG7d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5XjHg', 'Rapid', 'Miklegro', 1978, 'falanx', 2020, 'e4,d5,exd5,Qxd5,Nf3,Bf5,Be2,e6,c4,Qa5,O-O,c6,a4,Nd7,Re1,Ngf6,d4,Be7,c5,Qc7,Nc3,h6,Bd3,Bxd3,Qxd3,g5,b4,g4,Ne5,Nxe5,dxe5,Nd5,Ba3,O-O-O,Qc4,h5,Ne4,h4,Nd6+,Bxd6,cxd6,Qb6,Qxg4,Rdg8,Qf3,Rg7,a5,Qb5,Rab1,Rhg8,g3,hxg3,fxg3,Qc4,b5,Qh4,Rb3,Rh8,Qf2,Nf4,Kf1,Qh3+,Kg1,Qg4,Qxa7,Nh3+,Kh1,Nf2+,Qxf2,Rgh7,h4', 'Rxh4+,gxh4,Rxh4+,Qxh4,Qxh4+,Kg2,Qxe1', 'https://lichess.org/training/5XjHg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5XjIC', 'Rapid', 'StuAngely', 1800, 'ksivany', 1899, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Nf3,Bg4,h3,Bxf3,Qxf3,cxd4,Bb5,dxc3,Nxc3,e6,O-O,a6,Ba4,b5,Nxb5,axb5,Bxb5,Qc7,Qc3,Rc8,Be3,Ne7,a4,g6,a5,Bg7,a6,Bxe5,Bd4,Bxd4,Qxd4,O-O,Qf6,Qb6,Bd3,Nb4,Be2,Nec6,Rfc1,Nd4,Bf1,Nb3,Rxc8,Rxc8,Ra3,Nd2,Qe7,Nxf1,Qb7,Rb8', 'Qxb6,Rxb6,a7', 'https://lichess.org/training/5XjIC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5xlQ8', 'Blitz', 'Umer_Garry_Kasparov', 2063, 'WGM mekoch', 2279, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,e6,Bc4,c5,d5,exd5,Nxd5,Nxd5,Bxd5,Be7,O-O,O-O,c4,Nd7,Re1,Nf6,Bf4,Nxd5,cxd5,Bg4,Rc1,b6,b3,Bf6,d6,Re8,Rxe8+,Qxe8,h3,Bh5,g4,Bg6,Kg2,Rd8,Qd2,h6,Re1,Qc6,Kg3,Be4,Qe3,Bd5,Ne5,Qxd6', 'Nxf7,Qd7,Nxd8', 'https://lichess.org/training/5xlQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5xmnr', 'Blitz', 'BoidePiranha03', 2363, 'Helder37', 1959, 'Nf3,Nf6,c4,Nc6,d4,d5,e3,e6,Nc3,b6,cxd5,Nxd5,Bb5,Bd7,O-O,Bd6,e4,Nxc3,bxc3,O-O,e5,Be7,Bd3,Re8,Qc2,g6,g3,Bf8,h4,Ne7,g4,Bc6,Ng5,Nd5,h5,Be7,hxg6,Bxg5,gxf7+,Kxf7,Bxh7,Bxc1', 'Qg6+,Kf8,Qg8+,Ke7,Qg7#', 'https://lichess.org/training/5xmnr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5XnM5', 'Blitz', 'NM CowHypnosis', 2089, 'Jhon347', 2118, 'f4,g6,Nf3,Bg7,e3,d6,Be2,Nf6,O-O,O-O,d3,Nc6,a4,e5,fxe5,dxe5,e4,h6,c3,Be6,Kh1,Nd7,b4,f5,Be3,Ne7,Qc1,Kh7,Na3,Nf6,Nxe5,Nxe4,dxe4,Bxe5,Bxh6,Rh8,exf5,Nxf5,Rxf5,Bxf5,Nc4,Bxc3,Qxc3,Kxh6,Ne5,Qf6', 'Ng4+,Bxg4,Qxf6', 'https://lichess.org/training/5XnM5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5XOxd', 'Rapid', 'Jvlima', 1883, 'shakezula', 1911, 'e4,c5,Nf3,e6,c3,d5,exd5,Qxd5,Be2,Nf6,O-O,a6,d4,cxd4,Nxd4,Bc5,Bf3,Qd7,Re1,Bxd4,cxd4,Nd5,Nc3,O-O,Ne4,Nc6,Bg5,b6,Rc1,Bb7,Bh4,f5,Ng5,Rf6,Nxh7,Rh6,Ng5,Rxh4,Nxe6,Re8,Ng5,Rxe1+,Qxe1,Nxd4,Bxd5+,Bxd5,Rc7,Re4', 'Qxe4,Bxe4,Rxd7', 'https://lichess.org/training/5XOxd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5xpKw', 'Classical', 'En_colat', 1660, 'Antoshka1983', 1624, 'd4,e6,c4,d5,cxd5,exd5,Nc3,Nf6,Bg5,c6,e4,Be7,Bd3,dxe4,Bxf6,Bxf6,Bxe4,Bxd4,Nf3,Bg4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/5xpKw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5xRc8', 'Rapid', 'Turcusman', 1926, 'Krudee', 1967, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,d5,Bb3,dxe4,Ng1,Nf6,Na3,b6,Nc4,Bb7,Ne2,Be7,O-O,O-O,Nf4,Qc7,d3,exd3,Qxd3,Rad8,Qg3,Kh8', 'Ng6+,hxg6,Qxc7', 'https://lichess.org/training/5xRc8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5XRSD', 'Blitz', 'pammon', 1916, 'GRETTER', 1894, 'd4,d5,e4,c6,Nc3,e6,e5,Bb4,f4,Nh6,Nf3,O-O,Bd3,Nd7,Ng5,Nb6,Nxh7,f5,Nxf8,Qxf8,O-O,Bd7,Kh1,Kf7,a3,Be7,Rf3,Ke8,Ne2,Kd8,b3,Kc7,c4,Qf7,c5,Nc8,b4,Ng4,h3,Qh5,Ng3,Qh7,Kg1,Nh6,a4,Bh4,b5,Ne7,Qb3,Rg8,b6+,axb6,Qxb6+,Kc8,Rb1,g5,Qxb7+,Kd8,Qb8+,Nc8,Ba6,g4,Rfb3,gxh3,gxh3,Bxg3,Rxg3,Rxg3+,Kf2,Qg7,Bf1,Rg1,Rb3,Rh1,Rg3,Qe7,Bd2,Qh4,Ba6,Rh2+,Kf3,Rxd2,Bxc8,Bxc8,Qd6+,Bd7,Qb8+,Bc8,Qd6+,Bd7,Qb8+,Ke7', 'Rg7+,Nf7,Qd6+,Ke8,Rg8#', 'https://lichess.org/training/5XRSD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Xubn', 'Classical', 'OscarGangas', 1889, 'Dtdeep', 1882, 'e4,d6,d4,Nf6,Bd3,Nbd7,Bg5,g6,h4,Bg7,f3,h5,g4,hxg4,fxg4,Nb6,Bxf6,Bxf6,g5,Bxd4,c3,Be5,Qf3,Be6,Nd2,Qd7,Ne2,O-O-O,Nf4,Bg4,Qf2,Kb8,Be2,Bxf4,Qxf4,Bxe2,Kxe2,Qb5+,Kf3,e5,Qe3,Rdf8,Kg3,f6,b3,fxg5,hxg5,Qd7,Raf1,d5,Rxf8+,Rxf8,Nf3,Qe7,Rh6,dxe4,Nh4,Nd5,Nxg6,Nxe3,Nxe7,Re8', 'g6,a5,g7', 'https://lichess.org/training/5Xubn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5xuCO', 'Bullet', 'bringhenti', 1698, 'michaelsantinel', 1687, 'b3,d5,Bb2,f6,e3,e5,Bxe5,fxe5,Qh5+,Kd7,Qxe5,Nf6,g3,Nc6', 'Bh3+,Ng4,Bxg4#', 'https://lichess.org/training/5xuCO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5xvlb', 'Blitz', 'rafinhajiujitsu', 1880, 'FrancescoPodda', 1782, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,Bxc6+,bxc6,d4,exd4,Nxd4,Nf6,Nxc6,Qd7,Nd4,Nxe4,c3,O-O,Qf3,Bb7,Be3,Rab8,Qe2,Bxd4,Bxd4,Rfe8,Qd3,Ng5,Be3,Nh3+,Kh1,Bxg2+,Kxg2', 'Qg4+,Kh1,Qf3#', 'https://lichess.org/training/5xvlb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Xwmk', 'Blitz', 'Fouad005', 2027, 'A-Hassan-EMI', 2068, 'e4,b6,d4,Bb7,Nc3,g6,Bc4,Bg7,Nge2,e6,f3,Ne7,Bg5,O-O,d5,exd5,Nxd5,Bxd5,Bxd5,c6,Bb3,Kh8,Qd2,Bxb2,Rb1,Bg7,O-O,f6,Bh6,d5,exd5,cxd5,Nc3,d4,Ne4,Nbc6,Rbe1,Nf5,Bxg7+,Kxg7,Ng3,Nxg3,hxg3,Ne5,Re4,Qd6,Rxd4,Qc5,Kh2,Rac8,Re1,Rc7,f4,Ng4+,Kg1,Rd8,c3,Rcd7,Rd1,Nh6,Kh1,Qh5+,Kg1,Qc5,Kh1,Rxd4,cxd4,Qh5+,Kg1,Nf5,Qf2,a5,Rd3,b5,Be6,Nd6,d5,Nc4,Qf3,Qxf3,gxf3,f5,Kg2,Kf6,Rb3,b4,Rd3,Rd6,Rd4,h6,Rxc4,g5,Rc6', 'Rxc6,dxc6,Kxe6,fxg5,hxg5', 'https://lichess.org/training/5Xwmk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5XXpo', 'Rapid', 'astrolabe', 1774, 'magadanez', 1618, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,a6,c3,Nf6,d3,d5,exd5,Nxd5,Re1,Bd6,Bxd5,e4,Rxe4+,Ne7,Qe2,c6,Bb3,Bf5,Rd4,O-O,Bf4,Nd5,Bxd5,cxd5,Rxd5,Re8,Qd2,Re6,Bxd6,Rxd6,Rxf5,Rxd3,Qe2,Qd7,Nbd2,Qxf5,Re1,Rdd8,Kf1,Re8,Qc4,Rac8,Qb4', 'Qd3+,Kg1,Rxe1+,Nxe1,Qxd2', 'https://lichess.org/training/5XXpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5XxQB', 'Rapid', 'jesus38h', 1739, 'osama-elsabaa', 1632, 'e4,d6,Bc4,Nf6,d3,g6,c3,Bg7,h3,O-O,Bb3,Nc6,Bf4,e5,Bg5,Be6,Bd5,Bxd5,exd5,Ne7,c4,h6,Be3,Nf5,Ne2,Nxe3,fxe3,e4,d4,Nd7,Nbc3,Qh4+,g3,Qe7,Qc2,Rfe8,O-O-O,Nb6,Nb5,a6,Na3,Qg5,Nf4,Qxg3,Qe2,Qf3,Rde1,Qxe2,Rxe2,c6,h4,cxd5,c5,Rac8,Kb1,dxc5,dxc5,Rxc5,h5,Kh7,hxg6+,fxg6,Rg2,g5,Rxg5,Re5,Rg6,Rc6,Rg2,Nc4,Nxc4,dxc4,Nh5,Re7,Nf4,c3,bxc3,Rxc3,Nd5,Rec7,Nxc7,Rxc7,Rc2,Rf7,Rc4,Re7,Kc2,b5,Rc6,a5,Rc5,Rb7,Rh4,Bf8,Rc6,b4,Rxe4,a4,Kb1,b3,Rxa4,b2,Raa6,Bg7,e4,Rf7,Rab6', 'Rf1+,Kc2,Rc1+', 'https://lichess.org/training/5XxQB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5y22r', 'Rapid', 'shikadai11', 1897, 'mmaghrby', 1849, 'f4,d5,Nf3,c5,d3,Nf6,Nbd2,Bf5,c3,e6,h3,Bd6,g4,Bg6,Bg2,Bxf4', 'Qa4+,Nbd7,Qxf4', 'https://lichess.org/training/5y22r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5y5Iy', 'Rapid', 'guillote2350', 1921, 'Alexey_Golovchenko', 2493, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,c4,g6,Nc3,Bg7,Bd3,O-O,c5,b6,b4,a5,Rb1,axb4,Rxb4,bxc5,dxc5,Nc6,Rb3,e5,Bb1,d4,Nb5,Be6,Rb2,e4,Ng5,Bd5,O-O,h6,Nh3,g5,Nxd4,Nxd4,Qxd4,Nh5,Qe3,Bxb2,Bxb2,Bxa2,Qc3,Bxb1', 'Qh8#', 'https://lichess.org/training/5y5Iy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5y5YZ', 'Rapid', 'peter23417', 1690, 'jpvs', 1704, 'e4,e5,Nf3,d6,Bc4,c6,d4,b5,Bb3,exd4,Nxd4,a6,Bf4,c5,Nf3,c4,O-O,cxb3,cxb3,Bg4,h3,Bxf3,Qxf3,Nd7,Nc3,Ngf6,Rfd1,Ne5', 'Bxe5,dxe5,Rxd8+', 'https://lichess.org/training/5y5YZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5y6Ke', 'Rapid', 'prince2582', 1936, 'jayverine', 1882, 'd4,d5,e3,c5,c3,Nc6,f4,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Bd6,O-O,Nf6,Ne5,Qc7,Nd2,O-O,a3,Nd7,Ndf3,Nf6,b4,cxd4,cxd4,Rac8,Bd2,Ne4,Rfc1,Bxe5,fxe5,Qd7,Be1,Ne7,Nd2,Nxd2,Bxd2,Nf5,Rc5,Rc6,Rac1,Rfc8,a4,Rxc5,Rxc5,Rxc5,dxc5,Qxa4,e4,Ne7,Kf2,Qc6,exd5,Nxd5,Be3,g6,b5,Qc7,Bd4,Qd7,g3,Nb4,Qc4,Nd5,c6,bxc6,bxc6,Qc7,Qc5,Ne7,Qxa7', 'Qxa7,Bxa7,Nxc6', 'https://lichess.org/training/5y6Ke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5y6lL', 'Blitz', 'poofy', 1542, 'Chadwek', 1536, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nf3,Bg4,h3,Bh5,Be3,e6,Bd3,Bb4+,Nc3,Bxc3+,bxc3,Nc6,O-O,O-O,Be2,Ne4,Qc2,f5,Bg5,Qe8,Ne5,Nxg5,Bxh5,Qxh5,Nxc6,bxc6,Rab1,Qg6,Rb7,Nxh3+,Kh2,Ng5,Rxc7,Qh5+,Kg1,Rf6,Qa4,Rh6,f3,Qh4,Qxc6,Rf8,Qd7,Rf7,Qe8+,Rf8,Qe7,Rf7', 'Rc8+,Rf8,Rxf8#', 'https://lichess.org/training/5y6lL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YaGx', 'Rapid', 'predajem', 1880, 'Maksud90', 1750, 'd4,d5,c4,e6,c5,b6,b4,a5,Bd2,axb4,Bxb4,bxc5,Bxc5,Bxc5,dxc5,c6,Qd2,Nd7,Qc3,Ngf6,f3,e5,e3,Bb7,Nd2,O-O,Nb3,h6,Bd3,Re8,Bf5,e4,fxe4,Nxe4,Bxe4,Rxe4,Nf3,Nf6,O-O,Qe7,Nbd2,Rxe3,Qd4,Re6,Nh4,Re8,Nf5,Qd7,Nd6,Rb8,Nb3,Ne4', 'Rxf7,Qxf7,Nxf7', 'https://lichess.org/training/5YaGx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5yBMr', 'Blitz', 'maysudhir', 1953, 'expressad', 2023, 'd4,d5,c3,c5,e3,e6,Nf3,Nf6,Bd3,c4,Bc2,Bd6,O-O,O-O,Bd2,a6,Re1,b5,Rf1,Bb7,Be1,Ne4,Nbd2,Nd7,h3,Qc7,Ne5,Nxe5,dxe5,Bxe5,f4,Bd6,Nf3,Rad8,Nd4,e5,fxe5,Bxe5,Qg4,Rd6,Bxe4,dxe4,Bh4,Rg6,Qe2,Bg3,Bxg3,Qxg3,Nf5,Qe5,Rad1,Bc8,Qh5,Bxf5,Qxf5,Qg3', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/5yBMr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ycTb', 'Rapid', 'artemzaichik', 1772, 'phanlan', 1793, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,Bc5,O-O,O-O,Bg5,b5,Bb3,h6,Bh4,Nd4,Nxd4,Bxd4,c3,Bc5,Nd2,Be7,Nf3,d6,Qd2,Bg4,h3,Bxf3,gxf3,Nxe4,fxe4,Bxh4,Kh2,Bg5,Qe2,Kh8,Rg1,f5,Qh5,fxe4,Bd5,Rxf2+,Rg2,Bf4+,Kh1,Rxg2,Kxg2,Qg5+', 'Qxg5,Bxg5,Bxa8', 'https://lichess.org/training/5ycTb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ydJo', 'Classical', 'Iberico', 1723, 'Kneht', 1705, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,Nc6,d5,Ne5,Bf4,Ng6,Bg3,e5,h3,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/5ydJo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YDQF', 'Rapid', 'mr_d00msday', 1793, 'jwo0809', 1665, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,O-O,Nc6,Nxc6,bxc6,Nd2,e5,Nc4,Be7,f4,O-O,fxe5,dxe5,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/5YDQF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YfIH', 'Classical', 'ddehel', 1746, 'whhlp', 1778, 'd4,d5,c4,c6,e3,Nf6,Nc3,Bf5,Nf3,Nbd7,Be2,Qc7,Bd2,e6,Nh4,Bg6,Nxg6,hxg6,g3,Be7,Rc1,Nf8,a3,N8h7,b4,Ng5,cxd5,exd5,f4,Nge4,Nxe4,Nxe4,Bf3,Nxg3', 'hxg3,Rxh1+,Bxh1', 'https://lichess.org/training/5YfIH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YFNT', 'Rapid', 'salirbeber', 2011, 'Rupfer', 2027, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ngf3,cxd4,cxd4,Qb6,O-O,Nxd4,Nxd4,Qxd4,Nf3,Qb6,Rb1,Be7,Qa4,O-O,Qg4,f5,Qh5,Qd8,Bg5,Bxg5', 'Nxg5,h6,Nxe6', 'https://lichess.org/training/5YFNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Yg9j', 'Rapid', 'goneill', 1671, 'Judoman', 1614, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,Be7,Bd3,Nf6,O-O,O-O,h3,Nc6,Be3,Nd5,Bd2,Be6,c4,Ndb4,Bxh7+,Kxh7,d5,Bxd5,Bxb4,Bxc4', 'Qc2+,Kg8,Qxc4,d5,Bxe7', 'https://lichess.org/training/5Yg9j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5yghu', 'Rapid', 'SherlockHH', 1837, 'calixtoanonimo', 1812, 'd4,d5,Nf3,Nf6,Nc3,Nc6,Bg5,h6,Bxf6,exf6,e4,Bb4,exd5,Qxd5,Qe2+,Be6,Qb5,Bxc3+,bxc3,Qe4+,Be2,O-O,O-O,Qxc2,Bd3,Qxc3,d5,Nd4,Nxd4,Qxd4,dxe6,fxe6,Rfd1,Qc3,Qxb7,Rad8,Qe4,f5,Qxe6+,Kh8,Bxf5,Rd6,Qe4,Rfd8,Qc2,Qe5,Rxd6', 'Qxa1+,Qb1,Qxb1+', 'https://lichess.org/training/5yghu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YiJ8', 'Rapid', 'Akiwa', 1963, 'SitoLinggau', 1923, 'e4,c6,d4,d5,f3,dxe4,fxe4,Nf6,e5,Bg4,Nf3,Nd5,Be2,e6,O-O,Qb6,Nc3,Nxc3,bxc3,c5,Ng5,Bxe2,Qxe2,cxd4,Nxf7', 'd3+,Qf2,Bc5', 'https://lichess.org/training/5YiJ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5yJVi', 'Blitz', 'GriMer1959', 2085, 'KeithDFG', 2065, 'e4,Nc6,d4,e5,d5,Nce7,c4,Ng6,Nc3,Bc5,Bd3,d6,Qe2,Nf6,h3,h5,Be3,Bxe3,fxe3,h4,O-O-O,Nh5,Qf2,Ng3,Rh2,Qf6,Nf3,c5,Ne2,Nh5,Rhh1,Bd7,Rhf1,a6,Qe1,Qe7,Kb1,b5,Rf2,O-O,Rf1,Rfb8,g4,hxg3,Nxg3,Nxg3,Qxg3,bxc4,Bxc4,Rb4,Bd3,Rab8,Rf2,a5,Rg1,a4,h4,a3,h5,Rxb2+,Rxb2,Rxb2+,Ka1,Bg4,hxg6,Qb7,gxf7+,Kf8,Qxg4', 'Rxa2+,Kxa2,Qb2#', 'https://lichess.org/training/5yJVi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YKd3', 'Blitz', 'dusandule', 1946, 'mudd_chess', 1977, 'd4,e6,e4,c5,c3,Nf6,Bg5,Be7,e5,Nd5,Bxe7,Qxe7,Nf3,cxd4,Nxd4,Nc6,Nxc6,dxc6,Bd3,g6,O-O,b5,a3,Bb7,Nd2,Rd8,Qc2,c5,Be4,c4,Nf3,O-O,Nd4,a6,g3,Nb6,Rae1,Bxe4,Qxe4,Nd5,Re2,Rd7,f4,Qc5,Kh1,Rfd8,g4,a5,f5,Qb6,fxe6,fxe6,Ref2,b4,g5,bxc3,bxc3,Nxc3,Qc6,Qxd4,Qxe6+,Kh8', 'Rf8+,Rxf8,Rxf8+,Kg7,Rg8#', 'https://lichess.org/training/5YKd3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YkTL', 'Rapid', 'Tobenna123', 1993, 'Clasparov', 1984, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,O-O,Nxe4,Re1,Nd6,Qe2,e6,d3,Be7,Nc3,O-O,Ne5,Qc7,Ne4,Nxe4,Qxe4,f6,Nf3,b6,Bf4,e5,Bg3,Be6,h3,Rad8,Nh2,b5,f4,Bd5,Qe3,Bd6,f5,Rfe8,Qe2,e4,Bxd6,Qxd6,Qg4,exd3,cxd3,c4,dxc4,Bxc4,Nf3,Qc5+,Kh1,Bd3,Nh4,Qf2,Red1,Be2,Rxd8,Bxg4', 'Rxe8+,Kf7,Rae1', 'https://lichess.org/training/5YkTL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ynfB', 'Blitz', 'SamtheTomato', 1666, 'Ahmad_Khawaja', 1617, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bb6,a4,Nxb4,a5,Bc5,c3,Nc6,d4,exd4,O-O,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,d6,Qxc3,Nf6,e5,Nxe5,Nxe5,dxe5,Ba3,Nd7,Nd2,Qf6,Ne4,Qg6,Qb4,Qf7,f4,Nf6,fxe5,Nd5,Qa4+,Qd7,Qxd7+,Bxd7,Rad1,Bc6,Rd2,Kd7,Rf7+,Ke6,Ng5+,Kxe5,Re2+,Kd4,Ne6+,Kc4,Re4+,Kb5,Rf3,Nc3,Rxc3,Bxe4,Nd4+,Kxa5,Bb4+,Kb6', 'Bc5+,Ka5,Ra3#', 'https://lichess.org/training/5ynfB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YNSf', 'Blitz', 'cubenoir', 1643, 'Shantiya13', 1705, 'f4,c5,Nf3,e6,e4,Nc6,d3,Bd6,Be2,Bb8,O-O,Nf6,Ne5,d6,Nxc6,bxc6,Nd2,O-O,Nf3,Qe7,c3,a5,b3,Kh8,Bb2,Kg8,e5,Ng4,Qd2,Ba7,Kh1,c4,d4,f5,Ba3,c5,Bxc4,d5,Be2,Qf7,dxc5,h6,b4,axb4,cxb4,Qh5,Bb2,Bb7,h3,d4,Nxd4', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/5YNSf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YnVU', 'Rapid', 'mvicente34', 1605, 'MoraisBatista', 1600, 'e4,e5,Nf3,d6,Bc4,Bg4,d3,h6,h3,Bxf3,Qxf3,Nf6,Nc3,Nc6,a3,Nd4,Qd1,c6,Be3,b5,Ba2,Ne6,Bxe6,fxe6,O-O,d5,Ne2,d4,Bd2,Be7,c3,c5,b4,O-O,Qb3,c4,dxc4,d3,Ng3,Qd7,cxb5,Rab8,c4,Rfc8,a4,Qd4,Rfe1,Qxc4,Qxc4,Rxc4,Rac1,Rxc1,Rxc1,Kh7,Rc7,Bd6,Rxa7,Rc8,f3,Rc2,Nf1,Nh5,Rd7,Bf8,Rxd3,Nf4,Rb3,Ne2+,Kf2,Nd4,Rb1,Ra2,a5,Nxb5,Ke2', 'Nc3+,Kd3,Nxb1', 'https://lichess.org/training/5YnVU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5yo8S', 'Rapid', 'krzysztofc', 1622, 'yanmmm', 1603, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Bf5,d4,Nc6,c3,e6,Nf3,Nf6,Nbd2,Bd6,O-O,O-O,c4,Bb4,Re1,Bxd2,Qxd2,Ne4,Qf4,Nf6,Nh4,Bg6,cxd5,Nxd5,Qg4,Qb6,Nxg6,hxg6,Be3,Nf6,Qh3,Rfd8,d5,Nd4,dxe6,fxe6,Bxe6+', 'Qxe6,Qxe6+,Nxe6', 'https://lichess.org/training/5yo8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5yPGV', 'Rapid', 'phantom355', 1843, 'stephikem', 1811, 'f4,d5,Nf3,Nf6,d3,Bg4,e3,e6,Be2,Bd6,c3,O-O,O-O,Nbd7,Nbd2,h6,Nb3,c6,Nfd4,Bxe2,Qxe2,Bc7,Bd2,Qe7,Be1,Nh7,Nf3,Rae8,a3,Qd8,Bh4,Qc8,Be1,e5,fxe5,Nxe5,d4,Nxf3+,Rxf3,Ng5,Rf1,Re4,Bd2,b6,c4,Qe6,cxd5,cxd5,Qd3,Qg4,Kh1,Qh5,Rf4,Bxf4,exf4,Ne6,Rf1,f5,h3,Qh4,Be3,Nxf4,Bxf4,Rxf4,Rg1,Re4,Qf3,Qf4,Qd3,Rfe8,Qb5,Qg3,Qxd5+,Kh7,Qxf5+,Qg6,Qf2,Re2,Qf3,Rxb2,Nc1,Qc2,d5,Rb1,Nd3,Rxg1+,Kxg1,Qc3,Qf5+,Kh8,Nf4,Qd4+,Kh2,Qe5', 'Qxe5,Rxe5,Ng6+,Kg8,Nxe5', 'https://lichess.org/training/5yPGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YpQM', 'Classical', 'kotabaru', 1861, 'Alejandro_Vergara', 1778, 'Nf3,d5,d4,e6,g3,Nc6,Bg2,Nf6,Nbd2,Bd6,O-O,h6,Re1,b6,e4,dxe4,Nxe4,Nxe4,Rxe4,Bb7,c4,O-O,b3,Ne7,Re1,Ng6,a4,Be7,Ba3,Bxa3,Rxa3,Qf6,Qa1,Bxf3,Bxf3,Qxf3,b4,Qg4,f3,Qh3,Re4,f5,Rxe6,Nh8,c5,f4,Qa2,fxg3', 'Rxh6+,Nf7,Rxh3', 'https://lichess.org/training/5YpQM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5yqvy', 'Rapid', 'CurvedSlayer', 1743, 'aflock', 1735, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,c3,h6,Be3,O-O,Bd3,Be6,Nbd2,Nbd7,Rc1,Re8,O-O,c6,Ne1,Nf8,f4,Qd7,Nef3,Bg4,h3,Bh5,g4,Bxg4,hxg4,Qxg4+,Kf2,Qh3,Rh1', 'Ng4+,Kg1,Qg3+', 'https://lichess.org/training/5yqvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Yr0p', 'Rapid', 'camqcamq', 1568, 'Krimz146', 1562, 'e4,c6,Nf3,d5,exd5,cxd5,c4,dxc4,Bxc4,Nf6,O-O,Bg4,Nc3,e6,Qa4+,Qd7', 'Bb5,Nc6,Ne5,Nxe5,Bxd7+', 'https://lichess.org/training/5Yr0p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5yRgR', 'Blitz', 'nickski', 2158, 'Peliagudov', 2200, 'e4,Nc6,Nf3,f5,exf5,d5,g4,h5,gxh5,Bxf5,Nh4,Nh6,Ng6,Bxg6,hxg6,Qd6,Bd3,e5,Nc3,e4,Bb5,O-O-O,Bxc6,Qxc6,Qh5,Bc5,d4,Bxd4,Bd2,Bxc3,bxc3,Qc4,O-O-O,Qxa2,Bg5,Rd6,Qh3+,Kb8,Bf4,Rc6,Qd7,Qa1+,Kd2,Qxc3+,Ke2,Qxc2+,Rd2,Qc4+,Ke3,Rb6,Bxc7+,Qxc7,Qxc7+,Kxc7,Rxd5,Re8,Rc1+,Kb8,Rd7,Rxg6,Rcc7,Nf5+,Kf4,Nd6,Rxg7,Rxg7,Rxg7,Rf8+,Ke5,Nc4+,Kxe4,Rxf2,h4,a5,Kd4,Nd6,Kc5,Ne4+,Kb6,Rf5', 'Rg8+,Rf8,Rxf8#', 'https://lichess.org/training/5yRgR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YRJl', 'Classical', 'PaWellTi', 1667, 'Arsen139', 1628, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,d4,b5,Bb3,Nxd4,Nxd4,c5,Bd5,Ra7,Nf3,Bg4,O-O,Qa5,Bd2,Qc7,c4,Nf6,Re1,Nxd5,cxd5,Be7,Be3,Ra8,a4,Qb7,axb5,axb5,Rxa8+,Qxa8,Nc3,b4,Nb5,Qa5,Qe2,Bd7,Nxd6+,Bxd6,Rc1,Bb5,Qc2,Qc7,Bxc5,Kd7,Bxd6,Qxc2,Rxc2,Kxd6,g3,Ra8,Kg2,f5,exf5,Bd3,Rd2,Bxf5,Ng5,Bg6,f4,exf4,gxf4,h6,Ne6,Be4+,Kg3,Ra1,Nxg7', 'Rg1+,Kf2,Rxg7', 'https://lichess.org/training/5YRJl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5yrQ7', 'Blitz', 'mujkanovic91', 1765, 'slavKO91', 1771, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,d6,h3,Bd7,b4,Bb6,a4,a5,b5,Ne7,Bb3,Ng6,Na3,Qc8,Nc4,Bxh3,gxh3,Qxh3,Nxb6,cxb6,Ng5,Qh4,Qf3,Nf4,Bxf4,exf4,Qg2,h6,Nf3,Qh5,Qh1,Qg6+,Qg2,Ng4,d4,Kh8,Nh4,Qg5,Nf5,f3,Qg3,g6,Nxd6,h5,Kh1,h4,Qh3,Qf4,Bd1,g5,Bxf3,Nf6,Nf5,Kh7,Bg2,Rh8,Qf3,Qxf3,Bxf3,g4,Be2,Nxe4,Bxg4,Rag8,Rae1,Ng3+,fxg3,Rxg4,Nxh4,Rxg3,Kh2,Rg7,Nf5', 'Kg8+,Nh6+,Rxh6#', 'https://lichess.org/training/5yrQ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5YWOh', 'Blitz', 'Joensuu', 2000, 'David_2004', 1813, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bc5,O-O,d6,d4,exd4,Nxd4,Bd7,Nf5,O-O,Bg5,h6,Bh4,Re8,Nd5,Rxe4,Bxf6,gxf6,Qh5,Re5,Nxh6+,Kg7,Qh4,Rxd5,Bd3,Qh8,Qc4,Rd4', 'Qxf7+,Kxh6,Qg6#', 'https://lichess.org/training/5YWOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Yxpn', 'Rapid', 'zrr', 1958, 'BroccoliYouToo', 1895, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,d6,Bg5,h6,Bxf6,Qxf6,e4,e5,d5,Bg4', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/5Yxpn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Z2R3', 'Blitz', 'Charlie_Firpo', 2270, 'DBonhoeffer', 2204, 'e4,c5,c3,Nc6,Bc4,e6,Qe2,Nge7,e5,Ng6,Nf3,d5,Bb3,c4,Bc2,Qc7,O-O,Ncxe5,Nd4,a6,f4,Nc6,Nxc6,bxc6,d3,cxd3,Bxd3,Bd6,g3,Ne7,Nd2,h5,Nf3,Bd7,Ng5,h4,g4,h3,Be3,Rb8,Bxa6,Rh4,Bd3,f6,Bf2,fxg5,Bxh4,gxh4,f5,Qb6+,Kh1,Qxb2,Bc2,e5,f6,gxf6,Rab1,Qxc3,Rxf6,Rxb1+,Bxb1,Bc7,g5,d4,Qh5+,Kd8', 'Rf8+,Be8,Qxe8#', 'https://lichess.org/training/5Z2R3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Z3j0', 'Blitz', 'Dr_Lenk', 2182, 'Bantayog', 2207, 'e4,e5,d4,exd4,Qh5,Nf6,Qh4,Be7,Bg5,d6,Nf3,Nc6,Bd3,Be6,Nbd2,Qd7,b4,a6,a4,h6,b5,axb5,Bxb5,O-O-O,Bxf6,Bxf6,Qg3,d3,Rc1,dxc2,Rxc2,d5,e5,Bf5,Rxc6,bxc6,Ba6+,Kb8,Nd4,Bxe5', 'Qb3+,Ka7,Qb7#', 'https://lichess.org/training/5Z3j0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Z41D', 'Rapid', 'jhonroodrigo', 1674, 'stevegrap', 1701, 'd4,Nf6,c4,g6,Nf3,Bg7,e3,d6,b3,O-O,Bb2,Bg4,Nbd2,Nbd7,Bd3,c5,O-O,cxd4,exd4,e5,h3,Bxf3,Nxf3,e4,Bxe4,Nxe4,Re1,Re8,Qd3,Ng5', 'Rxe8+,Qxe8,Nxg5', 'https://lichess.org/training/5Z41D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5z4Wb', 'Blitz', 'IM samisahi', 2635, 'Abolfazl_Abedi2021', 2348, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Be3,Ng4,Bb5,Nxe3,Nxc6,Nxd1,Ne5+,Bd7,Nxd7,e6,Kxd1,Ke7,Re1,a6', 'Nd5+,exd5,exd5#', 'https://lichess.org/training/5z4Wb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Z9II', 'Rapid', 'harri_olli', 1737, 'ramarc', 1808, 'd4,d5,e3,Nc6,c4,a6,Nc3,Nf6,Nf3,Bg4,h3,Bh5,a3,e5,g4,exd4,Nxd4,Bg6,Nxc6,bxc6,cxd5,Nxd5,Nxd5,cxd5,Qd4,c5,Qe5+,Qe7,Qxd5', 'Be4,Qc4,Bxh1', 'https://lichess.org/training/5Z9II');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5z9wt', 'Rapid', 'Hudriwudi05', 2372, 'Tizi007lol', 2203, 'd4,Nf6,c4,c6,Nc3,d5,Nf3,e6,Bg5,Bd6,e3,O-O,Bd3,h6,Bh4,dxc4,Bxc4,b5,Bd3,Bb7,O-O,Nbd7,Rc1,a6,Ne4,Be7,Bxf6,Nxf6,Nc5,Bc8,Ne5,Qb6,Bb1,Bd6,f4,Nd5,Qd3,f5,a3,b4,e4,fxe4,Qxe4,Nf6,Qg6,bxa3,bxa3,Qb2,Rcd1,Qxa3,Ne4,Qe3+,Kh1,Bxe5,fxe5,Nh7,Qxh7+,Kxh7,Ng5+,Kg8', 'Bh7+,Kh8,Rxf8#', 'https://lichess.org/training/5z9wt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ZAhz', 'Rapid', 'Janos_Karoly', 1906, 'Joshiva', 2017, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,c6,Bf4,Bb4,Qc2,Nbd7,e3,O-O,Rc1,Ne4,Bd3,Ndf6,O-O,Nxc3,bxc3,Ba3,Rb1,dxc4,Bxc4,b5,Be2,a6,Rb3,Be7,Ne5,Qe8,Bf3,Bb7,a4,Ra7,axb5,cxb5,c4,Bxf3,Nxf3,b4,c5,a5,Ra1,Qb5,Qb2,Nd5,Bg3,Rfa8,Qd2,a4,Rbb1,a3,e4,a2,Rb2,Nc3', 'Qxc3,bxc3,Rxb5', 'https://lichess.org/training/5ZAhz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5Zb1I', 'Rapid', 'follett', 2052, 'ZQAKE', 2168, 'd4,Nf6,c4,d6,Nc3,g6,e4,Bg7,Nf3,O-O,Be2,Nc6,O-O,e5,Bg5,h6,Bxf6,Qxf6,dxe5,dxe5,Nd5,Qd6,Qc2,Nd4,Nxd4,exd4,c5,Qd8,c6,bxc6,Qxc6,Be6,Nxc7,Qc8,Rac1,Rb8,b3,Rb6,Qa4,Bd7,Bb5,Bh3,gxh3,Qxh3,Be2,Be5,f4,Bxc7', 'Rxc7,Qe3+,Rf2', 'https://lichess.org/training/5Zb1I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ZgHk', 'Classical', 'DatuPuti33', 1767, 'lamedoran', 1856, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,Bb4,Bc4,Bxc3+,bxc3,Nxe4,O-O,Nxc3,Qd3,Na4,Qa3,Nb6,Bb3,Qe7,Qb2,O-O,Re1,d6,c4,Be6,c5,Bxb3,axb3,Nc8,cxd6,Qxd6,Qe2,f6,Qe4,Rd8,Ba3,Qd3,Qg4,Qxb3,Nh4,Rd4,Qh5,Nd6,Bxd6,Rxd6,Nf5,Rd7,Rab1,Qf7,Qh3,a5,Qg3,a4', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/5ZgHk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ZNLI', 'Rapid', 'rmendez', 1912, 'imath', 1942, 'e4,c5,f4,d6,Nf3,Nf6,d4,cxd4,Qxd4,Nc6,Qd3,e6,Nc3,Be7,h3,O-O,Be2,a6,O-O,b5,a3,Bb7,Nh2,Rc8,Bf3,Nd7,f5,d5,exd5,Nd4,dxe6,fxe6,fxe6,Bxf3,Nxf3,Nxe6,Kh1,Ndc5,Qxd8,Rcxd8,b4,Bf6,Bb2,Bxc3,Bxc3,Ne4,Be1,Nd4,c3,Nc2,Rc1,Nxa3,Ra1,Nc2,Rxa6,Rd1,Kg1,Rxf3,Ra8+,Kf7,Rxf3+,Kg6,Ra6+,Kg5,h4+,Kg4,Kh2,Nxe1,Re3,Nxc3,Rxc3,Rd2,Rg3+,Kxh4,Ra7,h5,Rh3+,Kg4,Rxg7+,Kf5,Rxh5+,Kf6,Rgg5', 'Nf3+,Kg3,Nxg5', 'https://lichess.org/training/5ZNLI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5zP8m', 'Blitz', 'FightingFalcon16', 1962, 'handsome07', 1956, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,g3,Nf6,Bg2,Bb4,Bd2,Nc6,Nb3,O-O,O-O,d6,f4,b5,g4,Bb7,g5,Nd7,Qh5,Ne7,Rf3,Bxc3,Bxc3,Bxe4,Rh3,Bg6,Qh4,Nf5,Qg4,Rac8,Be4,Qb6+,Kh1,Ne3,Qf3,Nxc2,Bxg6,fxg6,Qe4,Nxa1,Qxe6+,Rf7,Nd4,b4,f5,bxc3,fxg6,Qxd4', 'Qxf7+,Kh8,Rxh7#', 'https://lichess.org/training/5zP8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ZpFp', 'Rapid', 'apac1234', 1740, 'gizzardking', 1986, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Qf3,Nf6,Nc3,O-O,Bd3,Re8,O-O,d5,exd5,cxd5,Bb5,Bd7,Bd3,c6,Na4,Bd6,b3,Be5,Bb2,Bxb2,Nxb2,Bg4,Qf4,Be2,Rfe1,Bxd3,Nxd3,Ne4,Ne5,Qc7,Nd3,Qb6,Re2,Nc3,Rxe8+,Rxe8,Re1', 'Rxe1+,Nxe1,Ne2+,Kf1,Nxf4', 'https://lichess.org/training/5ZpFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ZQ0T', 'Rapid', 'mvagner', 1643, 'FILO2016', 1668, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe3,Be7,Nc3,Nh6,f3,O-O,Bc4,Re8,Qd3,Bg5,f4,Bh4+,g3,Bf6,e5,d6,Be3,Bf5,Qd5,Be6,Qe4,dxe5,Bxe6,Rxe6,fxe5,Rxe5,Qf3,Nf5,Nd5,Nxe3,Nxe3,Qe7,Kf2,Bg5,Rae1,f6,Nf5,Qe6,g4,g6,Rxe5,fxe5', 'Qxb7,gxf5,Qxa8+', 'https://lichess.org/training/5ZQ0T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5zs4o', 'Classical', 'Buster1978', 1852, 'Craftytype118', 1732, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nd7,Nc3,Ngf6,Bf4,g6,Qd2,Bg7,Bc4,O-O,O-O-O,a6,f3,Ne5,Bb3,c5,Bxe5,dxe5,Nde2,Qxd2+,Kxd2,b5,a3,Bb7,Ke3,Rad8,Bd5,Bxd5,Nxd5,Nxd5+,Rxd5,Rxd5,exd5,Rd8,Rd1,f5,g3,Kf7,b3,Rd6,c4,h5,Rd3,Bh6+,f4,e4,Rd2,Bg7,h3,Bh6,Rc2,b4,axb4,cxb4,Ra2,g5,Ra4,gxf4+,Nxf4,Bxf4+,Kxf4,Kf6,Rxb4,a5,Ra4,Rb6,Ra3,Rb4,c5,a4,bxa4,Rb1,a5', 'Rf1+,Ke3,Rf3+,Ke2,Rxa3', 'https://lichess.org/training/5zs4o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ztFn', 'Rapid', 'colonel_k', 1904, 'apprentice-of-life', 1890, 'e3,d5,h3,g6,g4,Bg7,Bg2,Nc6,Nc3,Be6,b3,Qd7,Bb2,O-O-O,Qe2,Nb4,O-O-O,d4,Nf3,dxc3,dxc3,Nxa2+,Kb1,Bd5,Kxa2,Qa4+,Kb1,Qa5,Ne1,e6,Bxd5,Rxd5,Rxd5,Qxd5,Rg1,Nf6,Qf3,Qd2,Nd3,Nd5,Qxf7,Nxc3+,Ka1,Rd8,Qxg7,Ne2,Re1,Qxc2,Nf4,Rd6,Nxe2', 'Ra6+,Ba3,Rxa3#', 'https://lichess.org/training/5ztFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ZvOh', 'Rapid', 'kazeo_sado', 1740, 'Kimarov', 1748, 'd4,Nf6,c4,g6,Nc3,Bg7,h3,e6,Nf3,O-O,Bf4,c6,Qd2,d5,cxd5,exd5,Bh6,Bf5,Nh4,Be4,f3,Nh5,Bg5,Bf6,Bxf6,Qxf6,fxe4,Qxh4+,Kd1,Ng3,Rg1,Nxe4,Nxe4,Qxe4,g4,Nd7,h4,Nf6,Bh3,Rae8,h5,Qe3,Qe1,Qxh3,hxg6,fxg6,g5,Ng4,Qb4,Ne3+,Kd2,Nc4+,Kc2,Rxe2+,Kd1,Rf1+,Kxe2,Rf3,Raf1,Re3+,Kd1,Qh5+,Kc1,Re8,Qxb7,Nd6,Qxc6', 'Rc8,Qxc8+,Nxc8', 'https://lichess.org/training/5ZvOh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ZvrP', 'Blitz', 'zaidejas123', 1574, 'KGjaba', 1553, 'b3,Nc6,Bb2,e5,e3,d5,Bb5,Bd7,Bxc6,Bxc6,Bxe5,Bd6,Bxg7,f6,Qh5+,Kd7,Bxh8,Be5,Nc3,Ne7,Qxh7,d4,Qh3+,Kd6,Nce2,dxe3,O-O-O,exf2,Nf3,Bxf3,gxf3,c6,Bg7,Qa5,f4', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/5ZvrP');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 4;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet40 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YDCJ0', 'Rapid', 'Ahmed_2468', 1743, 'Thalys_leal', 1763, 'd4,d5,Nc3,f5,e3,e6,Nf3,Nf6,Bb5+,c6,Ba4,Be7,O-O,O-O,Nd2,b5,Bb3,Ba6,a3,b4,axb4,Bxf1,Nxf1,Bxb4,f3,c5,dxc5,Bxc5,Na4,Bb6,Kh1,Nc6,Bd2,h6,Bc3,Kh7,Qd3,Rf7,Ng3,Qd7,Rd1,Qe7,e4,fxe4,fxe4,dxe4,Nxe4,Rd8', 'Nxf6+,Kh8,Qh7#', 'https://lichess.org/training/YDCJ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yDDF6', 'Classical', 'kas97', 1630, 'zdrentu', 1638, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,d6,d3,Bg4,h3,Bh5,g4,Bg6,Qe2,h6,Nd5,Na5,Bb3,Nxb3,axb3,Nf6,Nxf6+,Qxf6,Bd2,Bb6,Bc3,Qf4,b4,O-O-O,Bd2,Qf6,c4,Kd7,Be3,Bxe3,Qxe3,Ra8,Nd2,a6,c5,h5,g5,Qe6,Nc4,f6,cxd6,cxd6,Nb6+,Ke7,Nxa8,Rxa8,Rc1,Kf8,Rc7,Qb3,Qf3,Qxb4+,Kf1,Qb6,Rc2,Qd8,Kg2,Be8,Rhc1,Bc6,gxf6,Qxf6,Qxh5,Ke7,Rg1,Rf8,Qh7,Kd8,Rf1,Qf3+,Kg1,Qf6,b4,Bd7,Rfc1,Bc6,Rf1,Ba4,Ra2,Bb5,Rd2', 'Qg5+,Kh1,Qxd2', 'https://lichess.org/training/yDDF6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YDDtP', 'Rapid', 'RonHei', 2173, 'kahvitauko', 2319, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,a4,b4,h3,O-O,c3,Rb8,d4,bxc3,bxc3,exd4,cxd4,Na5,Bc2,c5,Nc3,cxd4,Qxd4,Nb3,Bxb3,Rxb3,Be3,Be6,Rec1,Nd7,Rab1,Bf6,Qd2,Nc5,Bd4,Rxb1,Rxb1,Nb3,Bxf6', 'Nxd2,Bxd8,Nxb1', 'https://lichess.org/training/YDDtP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YDdUG', 'Blitz', 'Vetal4004', 1637, 'rosswil', 1593, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,O-O,d4,exd4,cxd4,Bb4,a3,Ba5,e5,Ng4,h3,d5,Bb3,Bb6,hxg4,Bxg4,Qd3,Bxf3,Qxf3,Nxd4,Qxd5', 'Ne2+,Kh1,Qh4#', 'https://lichess.org/training/YDdUG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yDE3B', 'Blitz', 'daduda26', 1634, 'femilesi', 1686, 'd4,d5,Bf4,e6,Nf3,Nc6,e3,Nf6,Nbd2,h6,Bd3,Be7,c3,a6,O-O,Bd7,Bg3,O-O,Ne5,Rc8,Ndf3,Ne4,Bf4,f5,Bc2,Bd6,h3,Nxe5,dxe5,Be7,g4,fxg4,hxg4,Ng5,Nh4,Nh3+,Kg2,Nxf4+,exf4,Bxh4,Qd3,Bb5', 'Qh7+,Kf7,Bg6+,Ke7,Qxg7+,Rf7,Qxf7#', 'https://lichess.org/training/yDE3B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydEed', 'Rapid', 'helge682', 1779, 'garcesdelatorre', 1711, 'e4,e5,Bc4,Nf6,Nf3,d5,exd5,Bd6,O-O,O-O,d3,h6,Nc3,Bg4,Ne4,Nxe4,dxe4,Nd7,Re1,Nf6,h3,Bh5,a3,Bg6,Bd3,Nh5,b4,Nf4,Bxf4,exf4,e5,Be7,c4,c6,Bxg6,fxg6,d6,Bg5,Nxg5,Qxg5,d7,Rad8,Qd6,f3,g3,Qf5,Kh2,Rxd7,Qc5,Qc2,Kg1,Qf5,Kh2,Qc2,Rac1,b6', 'Qxf8+,Kxf8,Rxc2', 'https://lichess.org/training/ydEed');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YdfG7', 'Classical', 'aadlimusta2', 1812, 'sobh_vinci', 1889, 'e4,c5,Nf3,Nc6,Bc4,g6,d3,Bg7,a3,Nf6,O-O,O-O,Bd2,d5,exd5,Nxd5,c3,Bg4,h3,Bc8,Bg5,b6,Nbd2,Bb7,Ne4,Nf6,Bxf6,Bxf6,Nxf6+,exf6,Re1,Re8,Qd2,Na5,Ba2,Bxf3,gxf3,Qd7,Qf4,Kg7,Qh4,Qxd3,Re4,Qxf3,Rf4,Qc6,b4,Nb7,Rd1,Rad8,Rb1,Qd6,Bxf7,g5,Qh5,Rf8,Re4,Rxf7,Rbe1,cxb4,axb4,Qd7,h4,h6,f4,Qd2,Re7,Rd7', 'Qxf7+,Kh8,Re8#', 'https://lichess.org/training/YdfG7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YdGRv', 'Rapid', 'SuperiorKing', 1646, 'Desperatis', 1650, 'e4,e5,d3,Nc6,Nf3,d6,a3,Bg4,h3,Bxf3,Qxf3,Nf6,Nd2,d5,Be2', 'Nd4,Qg3,Nxc2+', 'https://lichess.org/training/YdGRv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydgTu', 'Classical', 'TutoPateviuxxx', 1683, 'alihassan11', 1726, 'e4,g6,Nf3,Bg7,Nc3,d6,Ng5,Nf6,Bc4,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,Nd5,Nbd7,O-O,Nxe4,Re1,Nef6,Rxe7+,Kg8,Qe1,c6,Nxf6+,Nxf6,d4,Bf5,Bg5,Ne4', 'Rxg7+,Kxg7,Bxd8', 'https://lichess.org/training/ydgTu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yDhrG', 'Blitz', 'scorpioni1', 2015, 'nimetullaosmani', 2151, 'd4,c6,c4,d6,Nc3,g6,Bf4,Bg7,e3,a5,Bd3,a4,Nxa4,Nd7,Nc3,e5,Bg3,f5,h3,exd4,exd4,Bxd4,Nge2,Ne5,Nxd4,Qb6,Bxe5,dxe5,Nde2,e4,Bc2,Qxb2,O-O,Qb6,Qd4,Qxd4,Nxd4,Nf6,Bb3,Bd7,Rae1,c5,Ndb5,Ke7,f3,Bc6,fxe4,Nxe4,Nd5+,Bxd5,cxd5,Kd7,d6,Nxd6,Rd1,Ra6,Bc4,Rc6,Nxd6,Rxd6,Bb5+,Kc7,Rxd6,Kxd6,Rd1+,Kc7,a4,Kb6,Rd6+,Ka5,Rd7,b6,Rc7,h6,Rc6,g5,Kf2,f4,Kf3,Rh7,Rg6,Rh8,Kg4,Rc8,Rxh6,c4,Rc6', 'Rxc6,Bxc6,c3,Be4,Kxa4', 'https://lichess.org/training/yDhrG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YdIEW', 'Rapid', 'BlunderET', 1966, 'noornoo', 1962, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nge7,c4,Nxd5,cxd5,Nd4,Nc2,Qb6,Be3,Qa5+,Bd2,Qb6,Be3,Qa5+,b4,Nxc2+,Qxc2,Qxb4+,Bd2,Qd4,Rc1,Be7', 'Qc6+,Bd7,Qxa8+', 'https://lichess.org/training/YdIEW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydiXR', 'Bullet', 'rafaell1799', 1619, 'rajiv78', 1630, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Be7,c3,c6,Be3,O-O,Nbd2,Ng4,O-O,Nxe3,fxe3,Bg5,e4,Be3+,Kh1,dxe4,Nxe4,f5,Ng3,f4,Ne4,Bg4,h3,Bh5,Qb3+,Kh8,Qxb7,Nd7,Qxc6,Rf6,Nxf6,Nxf6,Qc4,Qd6,Ne5,Rf8,g4,Nxg4,hxg4,Qh6,gxh5,Qxh5+,Kg2,Qg5+,Kf3,Qg3+,Ke2', 'Qg2+,Rf2,Qxf2+,Kd1,Qd2#', 'https://lichess.org/training/ydiXR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yDlR8', 'Classical', 'PETROS9N', 1869, 'Trickyx3', 1959, 'd4,e6,e4,d5,exd5,exd5,c4,dxc4,Bxc4,Nf6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Ne2,Bg4,O-O,Re8,f3,Bf5,Qb3,Kh8,Bg5,b6,Bxf7,Rxe2,Bxf6,Qxf6,Qd5,Nc6,Rae1,Rxe1,Rxe1,Rf8,Be8,Ne7,Qd8,Ng6,Qxc7,Nh4,Bc6,Rc8', 'Qxc8+,Bxc8,Re8+,Qf8,Rxf8#', 'https://lichess.org/training/yDlR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yDmfu', 'Rapid', 'vaishnavichampion', 1647, 'Galina_12', 1654, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,Bc5,Nbd2,O-O,c3,d6,b4,Bb6,Bb2,a6,d4,Bg4,dxe5,dxe5,Qc2,Bxf3,Nxf3,Ng4,h3,Nf6,Bb3,a5,bxa5,Rxa5,c4,Nd4,Nxd4,Bxd4,Bxd4,Qxd4,Rfe1,Rc5', 'Rad1,Qd8,Rxd8', 'https://lichess.org/training/yDmfu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydMJ9', 'Bullet', 'orexovalexs', 1649, 'ALBERT1938', 1631, 'e4,g6,e5,Bg7,d4,d6,Nf3,dxe5,Nxe5,Bxe5,dxe5,Qxd1+,Kxd1,Be6,Nc3,Nc6,Bb5,O-O-O+,Bd2,Nxe5,Ke2,a6,Ba4,Nc4,Be3,Nxb2,Rab1,Nc4,Rb4,Nxe3,fxe3,b5,Nxb5,axb5,Rxb5,Bd7,Rb4,Bxa4,Rxa4,Rd6,Ra8+,Kd7,Rb1,Rb6,Rf1,f5,g4,e6,gxf5,exf5,e4,Re6,Kd3,Rxe4,Rd1,Ke7,Kc3,Re6,Rdd8,Kf7,Rf8+,Kg7,Rfc8,Re7,a4,h5,a5,f4,a6,f3,a7,c5', 'Rxg8+,Rxg8,Rxg8+,Kxg8,a8=Q+', 'https://lichess.org/training/ydMJ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YdMm7', 'Rapid', 'killingmenoob', 1719, 'mayra_mesanyxta', 1741, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,c6,Be2,Nf6,Bg5,Be7,e5,dxe5,Qxe5,Qd6,Qxd6,Bxd6,Bxf6,gxf6,O-O,Rg8,Rfe1,Kd7,Bf3,Kc7,Rad1,f5,Nb1,Be6,b3,Rg6,h3,f4,Kh2,Rag8,Rg1,Bc5,Rdf1,Rd8,Be4,f5,Bf3,Bc8,c4,b6,Rd1,Bxf2,Rgf1,Bg3+,Kg1,Rgd6,Nc3,Ba6,Rxd6,Rxd6,Ra1,b5,c5,Rd3,Ne2,b4', 'Nxg3,fxg3,Be2,Rc3,Bxa6', 'https://lichess.org/training/YdMm7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydnaz', 'Blitz', 'Kanario', 2046, 'Retrogott', 2079, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bg4,Be2,e6,O-O,Bd6,h3,Bxf3,Bxf3,c6,Bg5,O-O,Ne4,Be7,Bxf6,Bxf6,c3,Be7,Qd3,Nd7,Bd1,Qc7,Bc2,g6,f4,Rad8,Rad1,c5,Qc4,Nb6,Qb3,cxd4,cxd4,Nd5,Nc3,Nxf4,Nb5,Qb8,Bd3,Nxd3,Qxd3,a6,Nc3,e5,d5,f5,Qc4,Bd6,Rde1,Rc8,Qb3,Qa7+,Kh1,e4,Ne2,f4,Nc3,f3,gxf3,exf3,Ne4,f2,Re2,Qd4,Nxd6,Rc1,Rxc1,f1=Q+,Rxf1', 'Rxf1+,Kg2,Qg1#', 'https://lichess.org/training/ydnaz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydOfb', 'Classical', 'DivadLank', 2056, 'willi1303', 1965, 'e4,g6,d4,Bg7,Nf3,d6,Bc4,h6,Be3,Nf6,Nc3,O-O,Qd2,Ng4,Bf4,e5,dxe5,dxe5,Qxd8,Rxd8,Bg3,Nc6,h3,Nf6,Nxe5,Nxe5,Bxe5,Re8,f4,c6,O-O-O,b5,Bb3,b4,Bxf6,Bxf6,Na4,Rxe4,g3,Bf5,g4,Be6,Bxe6,Rxe6,Nc5,Re2,Nd7,Bg7,f5,Rf2,Rhf1,Rxf1,Rxf1,gxf5,gxf5,f6,Nc5,h5,Rg1,Kf7,b3,Rd8', 'Rxg7+,Kxg7,Ne6+,Kh6,Nxd8', 'https://lichess.org/training/ydOfb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YDpC0', 'Rapid', 'Anthhonyy', 1644, 'celebiifurkan', 1624, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,Re1,Bd7,Nc3,a6,Ba4,Nb4,a3,Bxa4,axb4,Bc6,d4,exd4,Nxd4,Qd7,Nxc6,Qxc6,b5,Qc5,Be3,Qe5,f4,Qe7,Nd5,Nxd5,exd5,Qd7,Bf2+,Be7,Bh4,f6,c4,O-O,Ra3,Rfe8,Rae3,axb5,Qe2,Kf8,b3,bxc4,bxc4,c6,Qh5,h6,Qg6,cxd5,Rg3,Bd8', 'Rxe8+,Qxe8,Qxg7#', 'https://lichess.org/training/YDpC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydQRQ', 'Rapid', 'mehmet9527', 2007, 'Pat964', 2137, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Nf3,Be7,Bg5,O-O,e3,Nbd7,Bd3,c6,O-O,h6,Bh4,Ne4,Bxe7,Qxe7,Qc2,Re8,Nd2,Nxd2,Qxd2,Nf6,Rfe1,Ne4,Bxe4,dxe4,Rab1,Bf5,Ne2,Red8,Ng3,Bg6,Rec1,Rac8,Qa5,b6,Qa4,c5,dxc5,Rxc5,Rxc5,Qxc5,Nxe4,Qd5,Nc3,Qd2,Rd1,Qxd1+,Nxd1,Rd2,h3,Bc2,Qxa7,Rxd1+,Kh2,Be4,Qxb6,Rd2,Kg3,f5,a4,Kh7,a5,h5,a6,h4+,Kxh4,Rxf2,a7,Rxg2,Qb8', 'g5+,Kh5,Bf3#', 'https://lichess.org/training/ydQRQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yDR1G', 'Blitz', 'gergelyla', 1946, 'sansone', 1907, 'e4,e5,f4,exf4,Nf3,d6,Bc4,h6,O-O,g5,d4,Bg7,h4,f6,c3,Nc6,Qb3,Nge7,Bf7+,Kf8,Bh5,d5,e5,fxe5,Nxe5,Nxe5,dxe5,Bxe5,c4,c6,Nc3,Be6,cxd5,Nxd5,Bxf4,Bxf4,Rae1,Bf7,Bxf7,Kxf7,Nxd5,cxd5,Qxb7+,Kg6,Re6+,Kh5,Qf7+,Kxh4,g3+,Kxg3,Qh5,Qd7,Qf3+,Kh4,Kg2,Qxe6', 'Rh1+,Bh2,Rxh2+,Qh3+,Rxh3#', 'https://lichess.org/training/yDR1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydSXf', 'Rapid', 'FruDi', 1946, 'kochergin72', 1860, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,Bc4,Nf6,O-O,d3,Bxd3,Bc5,Nc3,c6,Re1,O-O,h3,d6,b3,Bd4,Bb2,b5,Qc1,Nh5,Bf1,Qf6,Re3,Bxe3,dxe3,Qg6,Bd3,Bxh3,Qf1,Nf6,e5,Bf5,Bxf5,Qxf5,exf6,Qxf6,Rb1,Qg6,Qd3,d5,Qxg6,fxg6,a4,a6,f3,g5,Ba3,Rf7,Bc5,g4,f4,g5,g3,h5,a5,h4,Ne2,h3,Kh2,Re8,Re1,Re4,Nd4,gxf4,gxf4,Rfxf4,Nxc6,Rf2+,Kh1,Rxc2,b4,g3,Ne7+,Kh7,Nf5,g2+,Kh2,Rf2,Ng3,Rh4,Be7,Rc4,Kxh3,Rcc2,Rg1,Kg6,Kg4,Kf7,Bc5,Ke6,Kh3,Ke5,Bd4+,Ke6,Nh5,Rf1,Rxg2', 'Rh1+,Kg4,Rxg2+', 'https://lichess.org/training/ydSXf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydToZ', 'Rapid', 'stevenra', 1847, 'masonbrouwer', 1856, 'd4,d5,c4,c6,Bf4,e6,e3,Nf6,Nf3,Bd6,Bxd6,Qxd6,Nc3,O-O,Bd3,dxc4,Bxc4,Nbd7,O-O,Nb6,Bd3,Nbd5,e4,Nxc3,bxc3,Qe7,e5,Nd5,Qc2,g6,c4,Nf4,Qd2,Nxd3,Qxd3,b6,Rad1,Bb7,Qe2,Rfd8,Rd2,c5,Rfd1,Bxf3,Qxf3,cxd4,Rxd4,Rxd4', 'Qxa8+,Qf8,Qxf8+,Kxf8,Rxd4', 'https://lichess.org/training/ydToZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydtXB', 'Rapid', 'karl_kaefer', 2045, 'TheEgo23', 1936, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,dxe4,dxe4,Nc6,g3,e5,Bg2,Bc5,O-O,O-O,Qe2,Bg4,c3,Qe7,h3,Bh5,b4,Bb6,a4,a6,Nc4,Bxf3,Bxf3,Ba7,Bg5,h6,Bxf6,Qxf6,Ra2,Rfd8,Rfa1,b6,b5,Na5,Nxa5,bxa5,bxa6,Bb6,Rd2', 'Rxd2,Qxd2,Qxf3', 'https://lichess.org/training/ydtXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydu53', 'Blitz', 'PuroNorteCarnale', 2265, 'Vak2019', 2304, 'e4,g6,d4,Bg7,Nc3,d6,f4,Nf6,e5,Nfd7,e6,fxe6,Bd3,Nf8,Nf3,Nc6,h4,Bd7,h5,e5,d5,Nb4,fxe5,Nxd3+,Qxd3,Bf5,Qb5+,c6,dxc6,bxc6,Qxc6+,Bd7,Qd5,Rc8,h6,Bxe5,Nxe5,dxe5,O-O,Qb6+,Kh1,Qd6,Qf3,Bc6,Qf7+,Kd8,Bg5,Kc7,Bxe7,Qd7,Rad1', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/ydu53');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YDum6', 'Rapid', 'Idris001', 1644, 'Kokserifli01', 1623, 'd4,e6,e4,d5,c4,dxe4,a3,Nf6,Nc3,Nc6,Bg5,Qxd4,Bxf6,Qxd1+,Rxd1,gxf6,Nxe4,Bg7,Nf3,O-O,Bd3,f5,Nc3,Nd4,Nxd4,Bxd4,Bxf5', 'Bxc3+,bxc3,exf5', 'https://lichess.org/training/YDum6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YDvzu', 'Blitz', 'dcvbnmki', 2289, 'WGM imnow', 2376, 'Nf3,c6,d4,d5,Bf4,Qb6,Nbd2,Qxb2,e3,Nf6,Bd3,g6,O-O,Bg7,c4,O-O,h3,Qc3,Qe2,Bf5,Bxf5,gxf5,Rfc1,Qa3,Ne5,Nbd7,Nb3,Nxe5,Bxe5,e6,Nc5,Ne4,Bxg7,Kxg7,Nd7,Qd6,Ne5,f6,c5,Qc7,Nd3,Kh8,Qh5,Rg8,Kh1,Rg5,Qh4,Rag8,Rg1,e5,f4,exf4,Nxf4,Qf7,Rab1,Rg3,Rb3,Qg7,Kh2,Qg5,Qxg5,fxg5,Nh5,f4,Nxg3', 'fxg3+,Kh1,Nf2#', 'https://lichess.org/training/YDvzu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ydx6G', 'Rapid', 'Tunc12', 1730, 'pacachess', 2197, 'e4,Nc6,Nf3,d6,Bc4,g6,Ng5,e6,d3,Bg7,Nc3,Nf6,O-O,O-O,h3,Na5,Bb3,Nxb3,axb3,e5,f4,exf4,Bxf4,Nh5,Qd2,Nxf4,Qxf4,Be5,Qh4,h5,Rf3,Bf6,Rg3,Bxg5,Rxg5,Kg7,Rf1,Be6,Qxh5', 'Rh8,Rxf7+,Bxf7', 'https://lichess.org/training/Ydx6G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ydy16', 'Blitz', 'sabidv', 1980, 'Chevalier20', 2019, 'e4,c5,Nf3,Nc6,b3,d6,Bb2,e5,d3,Nf6,Nc3,Bg4,h3,Bh5,Be2,Be7,O-O,O-O,Nd5,h6,Nxe7+,Qxe7,Nh2,Bg6,f4,Nd4,fxe5,Nxe2+,Qxe2,dxe5,Nf3,b6,Nxe5,Bh7,g4,Qd6,Qf3,Nd7,Nc4,Qe7,Rf2,f6,Raf1,b5,Ne3,Nb6,Nf5,Bxf5,gxf5,Nd7,Rg2,Ne5,Qg3,Rf7,Kh1,Kh8,Rfg1,Rg8,Qe3,Kh7,c3,g5,d4,cxd4,cxd4,Nc6,e5,fxe5,dxe5,Re8,f6,Qe6,Qe4+,Kg8,Qg6+,Kh8,Qxh6+,Rh7,Qxg5', 'Qxh3+,Rh2,Qxh2#', 'https://lichess.org/training/ydy16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yDyZj', 'Classical', 'fdfnba', 1567, 'spoilsport97', 1650, 'd4,d5,Nf3,c5,e3,cxd4,Nxd4,Nc6,b3,Nxd4,Qxd4,Nf6,Nd2,e6,Nf3,Be7,Bb2,O-O,Be2,b6,O-O,Bb7,Rad1,Qc7,c4,Bc5,Qh4,Be7,Bd3,dxc4,Bxc4,Bxf3,gxf3,Qc5,Qg3,Rad8,Rc1,Qb4,Qc7,Rd2,Bc3,Qd6,Qxd6,Rxd6,a4,Rfd8,Bb4,R6d7,Bb5,Rb7,Rfd1', 'Rxd1+,Rxd1,Bxb4,Rd8+,Bf8', 'https://lichess.org/training/yDyZj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YE1Ek', 'Rapid', 'noChesser', 1626, 'Yannick15', 1628, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,d3,O-O,Bg5,d6,h3,Na5,Bb3,Nxb3,axb3,d5,Bxf6,Bxf6,Nc3,d4,Nd5,c6,Nxf6+,Qxf6,Nh2,Qg6,Ng4,f5,Nxe5,Qd6,Nc4,Qg6,Qf3,fxe4,Qxe4,Bf5,Ne5', 'Bxe4,Nxg6,Bxg6', 'https://lichess.org/training/YE1Ek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yE4o5', 'Blitz', 'Nelsonpolanco30', 1998, 'ENDOE', 1870, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,O-O,h3,e5,d5,Ne8,Bd3,f5,exf5,Bxf5,Bxf5,gxf5,Nge2,f4,Bd2,Nf6,f3,Nh5,O-O,Qg5,Be1,Kh8,Ne4,Qg6,Qb3,b6,a4,Nd7,a5,Ndf6,Qc2,Rg8,Rf2,Bf8,Rc1,Be7,axb6,axb6,N4c3,Qg7,Qf5,Qf7,Ne4,Rg7,Ng5,Rxg5,Qxg5,Rg8,Qf5,h6,Nc3,Rg5,Qc8+,Kh7,Qxc7,Qg7,Nb5,Rg3,Kh2,e4,fxe4,Nxe4,Re2,f3,gxf3,Rg1,fxe4,Rxe1,Rcxe1,Qg3+,Kh1,Qxh3+,Kg1,Qg3+,Kf1,Qf3+,Rf2', 'Ng3+,Kg1,Qh1#', 'https://lichess.org/training/yE4o5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yE5PY', 'Rapid', 'waling', 1788, 'Ilia_Voskresenskii', 1785, 'e4,e6,Nf3,d5,exd5,exd5,Qe2+,Qe7,Qxe7+,Bxe7,Nc3,Nf6,Nb5,Na6,d3,O-O,h3,Bd7,Nbd4,Nb4,a3,Nc6,Be3,Nxd4,Bxd4,c5,Bc3,d4,Bd2,Rfe8,O-O-O,b5,Ne5,b4,axb4,cxb4,g4,b3,g5,bxc2,Kxc2,Ba4+,b3,Rec8+,Kb2,Rab8,b4,Bxd1,gxf6,Bxf6,Nd7,Rb7,Nxf6+,gxf6,Bg2,Rc2+,Kb1,Rxd2,Bxb7,Bc2+,Kc1,Rxf2,Rg1+,Kh8,Ba6,Bb3,Rg3,Be6,Bc4,f5,b5,f4,Rg1,f3,Rg3,h5,Kd1,h4,Rg5,Rg2,Rh5+,Kg7,Rxh4,Rh2,Bxe6,fxe6,Rg4+,Kf6,Rg3,Rg2,Rxf3+,Ke5,Rf7,Rb2,Rxa7,Rxb5,Ke2,Kf4,Rf7+,Rf5', 'Rxf5+,Kxf5,Kf3', 'https://lichess.org/training/yE5PY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ye62b', 'Rapid', 'FransRoes', 1665, 'tonylith', 1714, 'c4,g6,d4,Bg7,Nc3,d6,e4,Nc6,Be3,e5,Nge2,Nf6,f3,O-O,Qd2,Re8,g4,Bxg4,fxg4,Nxg4,Bg1,Qh4+,Ng3,Nxd4,Be2,Bh6,Qd3,Nxe2,Qxe2,f5,Nd5,Rac8,Bf2,Nxf2,Qxf2,fxe4,Nf6+,Kh8,Nxe8,Rxe8,Nf1,Qh3,Qg3,Qe6,Ne3,Bf4,Qg4', 'Bxe3,Qxe6,Rxe6', 'https://lichess.org/training/Ye62b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YE7dM', 'Rapid', 'chch7777', 1820, 'egorkarus12345', 1808, 'd4,d5,Bf4,Nf6,Nf3,Bf5,e3,e6,c4,c6,Nc3,Bd6,Ne5,Nbd7,Nxf7,Kxf7,Bxd6,Nb6,Be5,dxc4,Be2,Nfd5,Nxd5,cxd5,O-O,Rf8,g4,Bg6,f4,Kg8,b3,Rc8,Rc1,c3,Bd3,Bxd3,Qxd3,Qh4,g5,Qg4+,Kh1,g6,Rxc3,Rxc3,Qxc3,Rc8,Qb4,Qe2,Qe1,Qxa2,Qh4,Qxb3', 'Qh6,Rc7,Bxc7', 'https://lichess.org/training/YE7dM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEAy8', 'Rapid', 'indrachem', 1889, 'rapid420', 1911, 'e4,c5,Nf3,d6,c3,b6,d4,Bb7,d5,a6,Bd3,Nd7,O-O,Ngf6,Nbd2,g6,Nc4,Bg7,h3,O-O,Be3,b5,Ncd2,h6,Re1,e5,Nf1,Nh7,Qd2,Qf6,Bxh6,Bxh6,Qxh6,g5,Qxf6,Ndxf6,Ng3,Bc8,a4,Bd7,axb5,axb5,Nf5,Bxf5,exf5,c4,Be4', 'Rxa1,Rxa1,Nxe4', 'https://lichess.org/training/YEAy8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEaZj', 'Rapid', 'sdeniss', 1652, 'Vitorag', 1652, 'e4,e5,f4,d6,Bc4,Nf6,d3,Be7,Nf3,Bg4,O-O,Nbd7,Nc3,c6,Qe1,b5,Bb3,a5,a4,Nc5,Ba2,b4,Ne2,O-O,Qg3,Qc7,h3,Bxf3,Rxf3,Nh5,Qg4,Nf6,Qg3,Qa7,Be3,exf4,Nxf4,Qc7,Bxc5,dxc5,Nd5,Qxg3', 'Nxe7+,Kh8,Rxg3', 'https://lichess.org/training/yEaZj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEb9l', 'Blitz', 'Brut_son', 2026, 'EnRist', 2026, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Be2,Bf5,d3,e6,Bf4,c6,Bg3,Bd6,Bf3,Nf6,Qd2,O-O,Nge2,Nd5,Nxd5,cxd5,O-O,Nc6,c3,Bxg3,fxg3,Qb6+,Kh1,Ne5,d4,Nc4,Qf4,Bd3,b3,Bxe2,Bxe2,Nd6,Bd3,g6,c4,dxc4,bxc4,Qd8,Rac1,b6,c5,bxc5,dxc5,Nf5,Bxf5,exf5,Rfd1,Qa5,Rc2,Rac8,Rdc1,Qc7,Qc4,Rfe8,c6,Re4,Qc3,Re6,h3,Re4,Kh2,Rce8,Qb3,Re3,Rc3', 'Qxg3+,Kg1,Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/YEb9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEBnd', 'Classical', 'adrian31s', 1868, 'invachess90', 1793, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,Nc6,f3,Bd7,O-O-O,Rc8,h4,h5,g4,hxg4,Be2,gxf3,Bxf3,Bg4,Rdg1,Nxd4,Bxg4,Nxe4,Nxe4,Rxc2+,Qxc2,Nxc2,Kxc2,Qc7+,Kb1,f5,Ng5,fxg4,Ne6,Qd7,Nxg7+,Kf7,Rd1,Kxg7,Bd4+,e5,Bxe5+,Kh6,Bxh8,Qf5+,Ka1,d5,Bd4,a6,Be3+,Kh5,Rhf1,Qe4,Bg5,g3,Rde1,Qg2,a3,d4,Rf4,d3,Re8,Qh1+,Ka2,Qd5+,b3,Qg2+,Ka1,Qg1+,Kb2,Qg2+,Kc3,Qc2+,Kb4,Qb2,Re7,a5+,Kxa5,Qxa3+,Kb6,Qxe7', 'Bxe7,g2,Bc5', 'https://lichess.org/training/yEBnd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YeBYj', 'Rapid', 'likechesss', 1651, 'zabatista', 1632, 'e4,d5,exd5,Bd7,c4,Qc8,b3,Nf6,h3,a5,Nf3,h5,Ne5,a4,Nxd7,Nbxd7,b4,Ne5,Bb2,Qf5,d4,Qe4+,Qe2,Qxe2+,Bxe2,Ned7,O-O,g6,Nc3,Bg7,Nb5,O-O-O,Bd1,Ng4,hxg4,hxg4,Bxa4,Bh6,Rfe1,Bf4,g3,Bd2,Rxe7,Bxb4,Rxf7,Rh3,Rg7,Rdh8,Na7+,Kb8,Bxd7', 'Rh1+,Kg2,R8h2#', 'https://lichess.org/training/YeBYj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEcUl', 'Classical', 'bechir_trabelsi', 1780, 'Merelbeke', 1874, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,g6,Be3,Bg7,Qd2,O-O,O-O-O,b5,h4,Qa5,Nb3,Qc7,Nd5,Nxd5,exd5,Nd7,h5,Ne5,hxg6,fxg6,Nd4,Nc4,Bxc4,Qxc4,b3,Qc5,g4,Qa3+,Kb1,Rxf3,Qh2,h5,Bc1,Qb4,Bb2,Bxg4,Nc6,Qe4,Rde1,Re3,Bxg7,Kxg7,Qf2,Rxe1+,Rxe1,Qxd5', 'Rxe7+,Kh6,Qf4+,Qg5,Rh7+,Kxh7,Qxg5', 'https://lichess.org/training/YEcUl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yeDxU', 'Blitz', 'NM Clavis', 2235, 'firebolt09', 2369, 'd4,d5,Bf4,c6,e3,Qb6,Qc1,Bf5,Nf3,f6,Bd3,Bxd3,cxd3,g5,Bg3,h5,h4,g4,Nfd2,Nd7,Nc3,Nh6,Na4,Qb4,Qc2,Nf5,Bf4,e5,a3,Qa5,b4,Qc7,dxe5,fxe5,Bg5,Bg7,g3,O-O,O-O,Rae8,Nc5,e4,Bf4,Be5,Bxe5,Nxe5,dxe4,dxe4,Ndxe4,Nf3+,Kh1,N5xh4,Qc4+,Rf7,Rad1,Ne5,Qb3,Nhf3,Rd7,Nxd7,Nxd7,Qxd7', 'Nf6+,Kg7,Nxd7', 'https://lichess.org/training/yeDxU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEebl', 'Rapid', 'jimster99', 1871, 'ucanwinifutrymore', 1897, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,O-O,d6,d4,exd4,cxd4,Bb6,Qb3,Be6,d5,Na5,Qb5+,Bd7,Qb4,Nxc4,Qxc4,h6,e5,dxe5,Nxe5,Nf6,d6,O-O,Bb2,cxd6,Nxd7,Nxd7,Nc3,Rc8,Qg4,Nf6,Qg3,d5,Rad1,d4,Ne4,Re8,Nxf6+,Qxf6,Rd2,Rcd8,Rfd1,h5,Qh3,g6,Qd3,Re7,Qc4,Red7,Rd3,Qe5,Bc3,dxc3,Rxd7,Rxd7,Rxd7,c2', 'Qxf7+,Kh8,Qh7#', 'https://lichess.org/training/yEebl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEECz', 'Rapid', 'kis3kis3kis3', 1660, 'Claudiu1669', 1651, 'Nf3,e6,d4,d5,c3,c5,Nbd2,cxd4,Nxd4,g6,e3,Bg7,Bb5+,Nc6,Nxc6,bxc6,Bxc6+,Bd7,Bxa8,Qxa8,Qf3,Bc6,Qe2,Nf6,Nf3,O-O,b4,a6,Bb2,Bb5,Qd2,Ne4,Qd1,Rc8,Nd4,Bc4,f3,Ng5,h4,e5,hxg5,exd4,exd4,Re8+,Kf2,Re2+,Kg1,Rxb2,a4,Re2,Qc1,Qd8,Qf4,f6,Qh4,Kf7,gxf6,Qxf6,Qxf6+,Bxf6,Rxh7+,Kg8,Rc7,Bg5,Rc6,Be3+,Kh2,Kh7,Rh1,Kh6,Kg3+,Kg5,Rh4', 'Bf2+,Kh3,Bxh4', 'https://lichess.org/training/YEECz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YeFwV', 'Blitz', 'berto777', 2333, 'NM Chess-Network', 2541, 'e4,e6,d4,d5,e5,c5,c3,Qb6,a3,c4,Nd2,Nc6,g3,Bd7,h4,Na5,h5,h6,Bh3,Ne7,Ngf3,Qc7,O-O,O-O-O,Nh4,Kb8,f4,g6,hxg6,fxg6,Ng2,h5,Ne3,Nf5,Qf3,Be7,Kh2,a6,Rf2,Ka7,Rb1,Ba4,Ndf1,Nb3,Kg1,Bc6,Ng2,Rdg8,Be3,Na5,g4,hxg4,Bxg4,Bd7,Nd2,Ka8,Kf1,Rh1+,Ke2,Rxb1,Nxb1,Qb6,Kf1,Qb3,Qd1,Ba4,Qxb3,cxb3,Nd2,Nc4,Nxc4,dxc4,Bc1,Bc6,Ne3,b5,Rh2,Rg7,Rh8+,Kb7,Ke2,a5,Bf3,Nxe3,Bxe3,Bxf3+,Kxf3,b4,axb4,axb4,Bd2,bxc3,Bxc3,g5,fxg5,Bxg5,Ke4,Bc1,Rh4,Rg2,Rh7+,Kc8,Rh8+,Kd7,Rh7+,Kc6,Re7,Bxb2,Rxe6+,Kd7,Bb4,Ba1,Kd5,b2,Re7+,Kc8,Kc6,Rg6+,e6,Rg8,Rc7+,Kb8,Rb7+,Ka8,Bc5', 'Rc8+,Rc7,Rxc7+,Kxc7,b1=Q', 'https://lichess.org/training/YeFwV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YeFyh', 'Rapid', 'GRIGORI_290153', 1695, 'DemonioLaplace', 1804, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,O-O,Nd5,d6,Nxf6+,Qxf6,c3,Bg4,Be2,Qe7,d4,exd4,cxd4,Bxf3,Bxf3,Nxd4,Be3,Qe5,Bxd4,Bxd4,Qb3,Kh8,Rab1,b6,Rfe1,Rae8,g3,f5,exf5,Qxf5,Kg2,c5,Rxe8,Rxe8,Rf1,h6,Bc6,Re2,Bf3,Rxb2,Qa3,a5,Qa4,Qf7,Qc6,d5,Bxd5,Rxf2+,Rxf2,Qxf2+,Kh3,Qf1+,Kh4,Bf6+,Kg4,h5+,Kxh5,Qh3+,Kg6,Qg4+,Kf7,Qh5+,Kf8,Qe5,Qe8,Qd6+,Kf7+,Kh7,Qe4+,Kh6', 'Qg6#', 'https://lichess.org/training/YeFyh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEgLD', 'Rapid', 'alexbaranda', 1617, 'Evening227', 1612, 'b3,e5,Bb2,Nc6,Nf3,e4,Nd4,Nxd4,Bxd4,Nf6,d3,Bb4+,Nc3,Bxc3+,Bxc3,exd3,exd3,Qe7+,Be2,O-O,Qd2,d5,O-O-O,c5,g4,d4,Bb2,Nxg4,Bxg4,Bxg4,Rde1,Qf6,h3,Bd7,c3,Rfe8,cxd4,cxd4,Qb4,Rac8+,Kb1,Qxf2,Rxe8+,Rxe8,Bxd4,Qg2', 'Rg1,Qxg1+,Bxg1', 'https://lichess.org/training/YEgLD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEHvL', 'Blitz', 'Whay_amk', 1708, 'ryanbal', 1701, 'd4,d5,c4,dxc4,Nc3,Bg4,f3,Bh5,e4,e6,Bxc4,Bb4,Ne2,Nc6,Be3,Nf6,O-O,O-O,Nf4,Bg6,Nxg6,hxg6,a3,Ba5,b4,Bb6,Na4,Bxd4,Bxd4,Qxd4+,Qxd4,Nxd4,Nc5,b6,Nd3,Rad8,Ne5,b5,Ba2,Nh5,Rac1,Ne2+,Kh1,Nxc1,Rxc1,Rc8,g3,Rfe8,Nc6,a6,Rd1,f5,exf5,gxf5,g4,fxg4,fxg4,Nf4,Ne5,Kh8,Rf1,g5,h4,Ne2,Rf7,gxh4,Bb1,c5,Rh7+,Kg8,Nf7,cxb4', 'Nh6+,Kf8,Rf7#', 'https://lichess.org/training/YEHvL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yeHZJ', 'Blitz', 'salmaennahely', 1528, 'popieluszko', 1535, 'c4,e5,Nc3,Nf6,e3,d5,cxd5,Nxd5,a3,Nxc3,bxc3,Be6,d4,exd4,cxd4,Nc6,Bd2,Nxd4,exd4,Qxd4,Nf3,Qg4,h3,Qg6,Qb1,Qxb1+,Rxb1,O-O-O,Bb4,Bxb4+,Rxb4,Rhe8,Be2,Bd5,Rf4,f6,Rd4,Bxf3,Rxd8+,Kxd8,gxf3,c5,Kd2,Kc7,Rc1,Kc6,Bc4,b5,Bf7,Rd8+,Ke3,c4,f4,Rd3+,Ke2,Rxa3,f3,a5,Rb1,a4,Be8+,Kd5,Rxb5+,Kd4,Rb4,Ra2+,Ke1,a3,Bf7,Ke3,Rxc4', 'Ra1+,Rc1,Rxc1#', 'https://lichess.org/training/yeHZJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YeI0b', 'Rapid', 'ironbowl', 1653, 'insi2016', 1645, 'e4,e5,Nf3,Qf6,Nc3,Bb4,Nd5,Qd6,Nxb4,Qxb4,Bd3,f6,Nxe5,fxe5,Qh5+,Kd8,Qg5+,Qe7,Qxe7+,Nxe7,O-O,d6,f4,exf4,Rxf4,Nbc6,Be2,Nd4,Bd3,c5,c3,Ne6,Rf2,b6,Be2,Ng5,d3,Ne6,Be3,Kc7,Bf3,Bb7,Bg4,Nd8,Raf1,Ndc6,Rf7,Rae8,d4,cxd4,cxd4,Nb4,a3,Nc2,Rc1,Bxe4,Bf3,Bg6,Rf4,Nd5,Bxd5,Rxe3,Kf2,Re7,Bb3,Kd7,Bxc2,Rc8', 'Ba4+,Kd8,Rf8+', 'https://lichess.org/training/YeI0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEIW7', 'Rapid', 'nimzo2000', 1687, 'chessfred222', 1840, 'd4,d5,c4,dxc4,Nc3,Nd7,e4,Nb6,Bf4,c6,Nf3,Bg4,Be2,e6,Ne5,Bxe2,Kxe2,Bd6,Qd2,Qh4,Bg3,Qh5+,f3,O-O-O,Rad1,Nf6,Nxf7,Qxf7,Bxd6,Rxd6,e5,Rd7,exf6,gxf6,Ne4,e5,Qc3,exd4,Rxd4,Re7,Kf2,Qe6,Rd6,Qg8,Qxf6,Rg7,Qf5+,Kb8,g3,Rf7,Qe6,Qg7,Rhd1,Qxb2+,R1d2,Qg7', 'Rd8+,Rxd8,Rxd8+,Kc7,Qd6#', 'https://lichess.org/training/YEIW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEJ59', 'Rapid', 'khingabove', 2197, 'ballarat', 2292, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Bd3,Ngf6,Qe2,Nxe4,Bxe4,Nf6,Nf3,Bg4,c3,e6,Bg5,Be7,O-O,Nxe4,Bxe7,Nxc3,Qe5,Qxe7,Qxg7,O-O-O,Qxg4,Nd5,Ne5,Rdg8,Qf3,f6,Nd3,Rg5,Rac1,Rhg8,g3,Qd6,Rfe1,h5,Nc5,e5,Ne4,Qe6,Nxg5,Rxg5,dxe5,fxe5,Qf8+,Kc7,f4,Rg8,Qc5,Nxf4,Qa5+,Kc8,Rxe5,Nh3+,Kg2,Nf4+,Kf1', 'Qh3+,Ke1,Nd3+', 'https://lichess.org/training/yEJ59');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEKz2', 'Classical', 'Maozedung', 1982, 'Schleimbeutel', 1913, 'e4,d5,exd5,Nf6,d4,Nxd5,Ne2,Bf5,c3,e6,g3,c5,Bg2,cxd4,Nxd4,Bxb1,Rxb1,Bc5,Qb3,Bxd4,cxd4,Qd7,Bd2,Nc6,Qd3,O-O,O-O,Rac8,Rfe1,Ndb4,Qb3,Qxd4,Bc3,Qb6,a3,Nd5,Bxd5,exd5,Qxd5,Rfd8,Qg5,g6,Qf6,Nd4,Bxd4,Qxd4', 'Re8+,Rxe8,Qxd4', 'https://lichess.org/training/YEKz2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yElD6', 'Rapid', 'FCBayernAndre', 1975, 'DemetriousJohnson', 1849, 'Nf3,Nc6,d4,d5,Bf4,Bg4,e3,e6,c4,Nf6,Nc3,Bb4,Rc1,Ne4,Bd3,O-O,O-O,Bxc3,bxc3,a6,a4,Ne7,a5,b6,axb6,cxb6,cxd5,exd5,c4,Ng6,cxd5,Qxd5,Qc2,Bxf3,gxf3,Nxf4,Bxe4', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/yElD6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEM39', 'Rapid', 'eburatot', 1735, 'Checkurself', 1673, 'e4,d5,exd5,Nf6,c4,Bf5,Nc3,c6,dxc6,Nxc6,Nf3,Nb4,Qa4+,Nc6,d4,Bd7,Qd1,e6,Be2,Bb4,O-O,Bxc3,bxc3,Ne7,Bg5,Nf5,Ne5,Bc8,Qa4+,Kf8,c5,h6,Bf4,Nd5,Bg3,Nxc3,Qc2,Nxe2+,Qxe2,g6,Rad1,Kg7,Qc4,Qd5,Qc3,Qxa2,d5,f6,dxe6,Qxe6,Rfe1,Qg8,Nd7,Qf7,c6,g5,cxb7,Bxb7,Qc7,Bd5,Rxd5,Qxd5,Nxf6+,Kxf6,Be5+,Kg6,g4,Rh7', 'gxf5+,Kh5,Qxh7', 'https://lichess.org/training/yEM39');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEnei', 'Blitz', 'Alexis35', 1957, 'kinkypawn', 1962, 'd4,d5,Bf4,h5,Nf3,Nc6,Nc3,e6,e3,Be7,Be2,g5,Be5,f6,Nxg5,fxe5,Bxh5+,Kd7,Nxe6,Kxe6', 'Qg4+,Kd6,Nb5#', 'https://lichess.org/training/yEnei');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YeoB9', 'Rapid', 'Maksimus84', 1691, 'simbeco', 1618, 'Nf3,d6,c4,Nf6,Nc3,g6,e4,Bg7,d4,O-O,Be2,Nbd7,O-O,e5,d5,Nc5,Qc2,Bg4,b4,Ncd7,Be3,Nh5,c5,f5,Ng5,f4,Bxg4,Qxg5,Bxh5,fxe3,Bd1,Rf3,Bxf3,Rf8,Bd1,exf2+,Rxf2,Qe3,Nb5', 'Qe1+,Rf1,Qxf1#', 'https://lichess.org/training/YeoB9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yeoqh', 'Blitz', 'malakismayil', 2263, 'henficher', 2251, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Be3,Be7,O-O,b5,Bd3,O-O,a3,Bb7,Nb3,Nbd7,f4,Rc8,Nd2,Rxc3,bxc3,Qa8,Qf3,Rc8,a4,bxa4,Rxa4,Rxc3,Rfa1,Rc6,Qe2,Qc8,R1a2,Nc5,Bxc5,Rxc5,h3,g6,Nb3,Rc3,Bxa6,Bxa6,Rxa6,Kg7,Ra7,Bd8,Ra8,Bb6+,Kh2,Qb7,R8a4,d5,exd5,Qxd5,Rb4,Bc7,Qd2,Qxd2,Nxd2,Nd5,Rd4,Bxf4+,Kh1,Be3,Rd3,Rc8,Nf1,Bf2,Rf3,Bb6,g4,Rc4,Kg2,f5,gxf5,gxf5,Nd2,Rc6,Nb3,Kf6,Ra6,Rd6,Nd4,Bxd4,Rxd6,Ke5,Rd8,Ne3+,Rxe3+,Bxe3,Kf3,Bc5,c4,Kf6,Rd7,e5,Rxh7,e4+,Kf4,Bd6+,Ke3,Bc5+,Ke2,f4,Rh5,Bd4,Rd5,f3+,Kf1,Ba7,c5,Ke6,Rh5,Bb8,Kf2,Be5,Ke3,Bf4+,Kf2,Be5,Rh4,Bd4+,Kf1,Kd5,Rh5+,Kc4,c6,e3,Rh4,e2+,Ke1,Kd3,Rxd4+,Kxd4,c7', 'Ke3,h4,f2#', 'https://lichess.org/training/Yeoqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yeOZD', 'Rapid', 'king_ege', 2068, 'killer81', 2207, 'd4,f5,c4,Nf6,Nf3,g6,Bg5,Bg7,Nc3,O-O,Qd2,Ne4,Qf4,Nxg5,Nxg5,h6,Nf3,d6,O-O-O,Qe8,h4,e5,dxe5,dxe5,Qd2,c6,e4,Na6,h5,g5,exf5,Bxf5,Nxg5,hxg5,Qxg5,Kh8', 'h6,Bf6,Qxf5', 'https://lichess.org/training/yeOZD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YePzj', 'Blitz', 'gekikara', 1792, 'anman', 1767, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,Ng5,Nh6,Nxf7,Nxf7,Bxf7+,Kxf7,Qh5+,g6,Qxc5,d6,Qc4+,Be6,Qe2,Rf8,O-O,Kg7,f4,b5,Qxb5,Bd7,Qe2,Rb8,b3,Ne7,c4,dxc3,Nxc3,d5,exd5,Nxd5,Qe5+,Nf6,Bb2,Re8,Qg5,Kg8,Rad1,Ne4,Nxe4,Rxe4,Qh6,Qe7,Rd2,Bc6,Rfd1', 'Re1+,Kf2,Qe3#', 'https://lichess.org/training/YePzj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEQ28', 'Blitz', 'kingsanni', 2166, 'siyamak_z63', 2169, 'e4,d5,exd5,Nf6,Nf3,c6,dxc6,Nxc6,Be2,g6,O-O,Bg7,d4,O-O,c3,Bg4,h3,Bxf3,Bxf3,Rc8,Bf4,Qb6,b3,Rfd8,Na3,e5,Nc4,Qc7,Nxe5,Nxe5,Bxe5,Qb6,Rc1,Qa5,Qd2,b5,Rfe1,b4,cxb4,Qb6,Rxc8,Rxc8,Rc1,Re8,Qc3,Qe6,Qc6,Qe7,Bxf6,Bxf6,d5,Be5,Qc5,Bd6,Qc3,Bxb4,Qc7', 'Qxc7,Rxc7,Re1+,Kh2,Bd6+,g3,Bxc7', 'https://lichess.org/training/YEQ28');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEq6y', 'Classical', 'Maxmonti', 1817, 'Goblin_Alchemist', 1878, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bg5,Bg7,Qd2,Qa5,Bh6,Bxh6,Qxh6,Nxe4,Qg7,Qe5,Qxe5,dxe5,Nxe4,exd4,Bb5+,Bd7,Bxd7+,Nxd7,O-O-O,e5,Nd6+,Ke7,Nxb7,Rab8,Na5,Rhc8,Nb3,Nc5,Nxc5,Rxc5,Rhe1,f6,Rxd4,Rbc8,c3,Kf7,Ra4,a5,Rd1,Ke7,Kb1,Rd8,Rxd8,Kxd8,Kc2,Kd7,Kd3,Rd5+,Kc2,Kc6,h4,h5,g4,Rc5,gxh5,gxh5,f4,Kb5,b3,Kb6,fxe5,Rxe5,Rf4,f5,c4,Kc5,Kd3,Kd6,Rd4+,Ke6,Rd8,Ke7,Rh8,f4,Rg8,f3,Rg5,Re2,Rxh5,Rxa2,Ke3,Ra3,Rb5,a4,Kxf3', 'Rxb3+,Ke4,Rxb5,cxb5,a3', 'https://lichess.org/training/YEq6y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEQMI', 'Rapid', 'CADDEB', 1704, 'Acerb8', 1700, 'e4,b6,d4,Bb7,Nc3,Nf6,Bd3,e6,Nge2,d5,e5,Ne4,Be3,Qh4,O-O,Ng5,Qd2,Nh3+,gxh3,Qxh3,Kh1,c5,Bb5+,Nc6,dxc5,O-O-O,cxb6,d4,Bxc6', 'Bxc6+,f3,Bxf3+,Rxf3,Qxf3+', 'https://lichess.org/training/yEQMI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEQsS', 'Rapid', 'fraggy', 1799, 'yusef_boz', 1941, 'c4,d5,cxd5,Qxd5,Nc3,Qd6,Nf3,Nf6,g3,a6,Bg2,Nc6,d3,e5,O-O,Bg4,h3,Bxf3,Bxf3,O-O-O,Bg2,e4,Nxe4,Nxe4,Bxe4,Qf6,a3,Bd6,Bxc6,bxc6,Qa4,h5,Qxc6,h4,g4', 'Bh2+,Kxh2,Qxc6', 'https://lichess.org/training/yEQsS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yesxp', 'Classical', 'KuDm', 1745, 'chacal_17', 1699, 'e4,c5,Bc4,e6,e5,Nc6,Nf3,d5,exd6,Bxd6,O-O,Nf6,d3,O-O,a3,Qc7,h3,a6,Be3,Bd7,Nc3,Rad8,Qe2,Ne7,Bg5,Ng6,Bxf6,gxf6,Ne4,Be7,b4,f5,Nxc5,Bxc5,bxc5,Qxc5,Rab1,b5,Bb3,Bc6,d4,Bxf3,Qxf3,Rxd4,Rfd1,Rfd8,Rxd4,Qxd4,c3,Qd3', 'Rd1,Qxd1+,Bxd1', 'https://lichess.org/training/Yesxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yet3L', 'Rapid', 'Alekce_ibaikov-73ru', 1650, 'Hatim4511', 1630, 'd4,d5,c4,Nf6,Nc3,dxc4,Qa4+,Bd7,Qxc4,e6,Nb5,Nc6,Nf3,Bb4+,Bd2,Bxd2+,Nxd2,a6,Na3,b5,Qc5,Nd5,Nc2,b4,e3,Nce7,Nxb4,Nxb4,Qxb4,a5,Qc5,O-O,Bd3,Rb8,b3,a4,Qh5,Ng6,O-O,f5,Nf3,Be8,Qh3,c5,Bc4,Bf7,Qg3,cxd4,exd4,axb3,axb3,e5,Nxe5,Bxc4,bxc4,Qxd4,Nc6,Qxa1,Rxa1,Rbc8,Ne7+,Nxe7,h4,Rxc4,Kh2,Ng6,Qd3,Rxh4+,Kg1,Nf4,Qc4+,Kh8,g3', 'Nh3+,Kh2,Rxc4', 'https://lichess.org/training/Yet3L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YeVlf', 'Blitz', 'Evlampii', 2139, 'halilaltin081', 2022, 'b4,e5,Bb2,Nc6,b5,Nd4,e3,Nf5,Bxe5,Nf6,Nf3,d5,Be2,Bd6,O-O,O-O,d4,Ne4,c4,c6,c5,Bc7,Bd3,f6,Bxc7,Qxc7,Qc2,Re8,Nbd2,Qe7,Nb3,g5,Nfd2,Nh4,bxc6,bxc6,Na5,Bd7,Bxe4,dxe4,Nac4,Qe6,Nd6,Qg4,g3,Nf3+,Nxf3,exf3,Kh1,Qh3,Rg1,Re6,Qd1,g4,Qb3,Kh8,Qb7,f5,Nf7+,Kg8,Ng5', 'Qxh2+,Kxh2,Rh6+,Nh3,Rxh3#', 'https://lichess.org/training/YeVlf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEVo6', 'Classical', 'maxvirga', 1924, 'aleyhin', 1829, 'd4,Nf6,e3,e6,Bd3,c5,c3,cxd4,exd4,Nc6,f4,d5,Nd2,Bd6,Ne2,O-O,O-O,Ne7,Nf3,Ng6,Ne5,Qb6,Qc2,Nxe5,fxe5,Bxe5,Bg5,h6,Bh4,g5,Bf2,Bd6,Ng3,Ng4,Qe2,Nxf2,Qxf2,Bxg3,Qxg3,Qxb2,h4,Qd2,hxg5,Qxg5,Qf3,Bd7,Rae1,f6,Kf2,Rae8,Rh1,e5,Rh5,Qg7,Qxd5+,Be6,Qf3,Bg4,Qd5+,Be6,Qe4,exd4,Qxd4,Rd8,Qe4,Bd5,Qg6,Qxg6,Bxg6,Kg7,Bb1,Rfe8', 'Rxe8,Rxe8,Rxd5', 'https://lichess.org/training/YEVo6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEx5Z', 'Rapid', 'zolegl', 2032, 'WadeWilson', 2172, 'e4,c5,Nf3,Nc6,Bb5,e6,O-O,Nge7,c3,a6,Be2,d5,e5,Ng6,d4,Be7,Na3,O-O,Nc2,b6,Nce1,f6,Nd3,c4,Nf4,Nxf4,Bxf4,f5,Qd2,Kh8,Bg5,b5,Bxe7,Qxe7,a3,h6,h4,Bd7,Qf4,a5,g3,Ra7,Kg2,Rfa8,h5,Rf8,Rh1,Be8,Rag1,b4,Nh4,bxc3,bxc3,Rb7,g4,Rb2,Bf3,fxg4,Qxg4,Qg5,Qxg5,hxg5,Ng6+,Kg8,Rb1,Rb3,Rxb3,cxb3,c4,a4,cxd5,Nxd4,Ne7+,Kh8,Be4,Ne2,h6,Nf4+,Kf1,exd5', 'hxg7+,Kxg7,Rh7#', 'https://lichess.org/training/yEx5Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YExjS', 'Rapid', 'blackuy', 2023, 'HASiB_LUDiN', 1929, 'f4,Nf6,Nc3,g6,Nf3,d6,e4,Bg7,Bc4,O-O,O-O,Na6,a3,c5,d3,Nc7,e5,Nd7,Nd5,dxe5,fxe5,Nxd5,Bxd5,Nxe5,Bb3,Bg4,c3,Bxf3,Rxf3,Nxf3+,Qxf3,Qc7,Bg5,e6,Rf1,h6,Bh4,g5,Bg3,Qc6,Qh5,c4,Bxc4,Qb6+,Kh1,Qxb2,Bd6,Qxc3,Bxf8,Rxf8,h3,Qxa3,h4,Qc5,hxg5,Qxg5,Qh3,Be5,g4,Bf6,Kg2,Qd2+,Rf2,Qg5,Qf3,Bg7,Kg3,h5,Qxb7,Qxg4+,Kh2,Be5+,Kh1,Qh3+,Kg1,Qg3+', 'Rg2,Rb8,Rxg3+', 'https://lichess.org/training/YExjS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YexYK', 'Rapid', 'EZ7', 1768, 'PedroPgps', 1749, 'd4,d5,e3,a6,Be2,Nc6,Nf3,Bg4,Nbd2,Nf6,c3,e6,Nf1,Bd6,Ng3,O-O,O-O,Re8,h3,Bxf3,Bxf3,e5,dxe5,Nxe5,Bxd5,Nxd5,Qxd5,Qf6,Qxb7,Nd3,Qc6,h6,Ne4', 'Bh2+,Kxh2,Qxc6', 'https://lichess.org/training/YexYK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yeykm', 'Blitz', 'Pukar89', 1763, 'Tlaxiaco', 1804, 'e4,e5,f4,exf4,Nf3,d6,d4,g5,Bc4,h6,O-O,Bg7,Qe2,Ne7,e5,d5,Bb3,c5,c4,Be6,cxd5,Nxd5,dxc5,Nc6,Rd1,Nce7,Nc3,O-O,Nxd5,Nxd5,Qe4,Nf6,Rxd8', 'Nxe4,Rxa8,Rxa8,Bxe6,fxe6', 'https://lichess.org/training/yeykm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEYNK', 'Rapid', 'oncetigres', 1700, 'DrNarek', 1635, 'c4,e5,Nc3,Nf6,Nf3,Nc6,g3,Bb4,d3,O-O,Bd2,Re8,Bg2,Bxc3,Bxc3,d5,cxd5,Nxd5,O-O,Nxc3,bxc3,Bf5,Nd2,Qd7,Rb1,Rab8,Ne4,Bh3,Nc5,Qf5,Nxb7,Bxg2,Kxg2,e4,dxe4,Qxe4+,Kg1,Ne5,Nc5,Qf5,Nd3,Rbd8,Qc2,Nxd3,exd3,Rxd3,c4', 'Rxg3+,hxg3,Qxc2', 'https://lichess.org/training/yEYNK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEYrV', 'Rapid', 'TheNextGalileo', 2042, 'alagoz63', 1879, 'e4,e5,Nc3,Nc6,f4,Bc5,fxe5,Bxg1,Rxg1,Nxe5,d4,Ng6,g3,d6,h4,h5,Bc4,Bg4,Ne2,Nf6,Bg5,c6,e5,dxe5,c3,exd4,cxd4,Qa5+,Kf1,O-O,Qd3,Bxe2+,Kxe2,Rae8+,Kf1,Ne4,Bf4,Nxf4,gxf4,Nd2+,Kg2,Nxc4,Kh1,Ne3,Rg5,Nd5,Rag1,f5,Rxg7+,Kh8,Qg3,Nf6', 'Rh7+,Nxh7,Qg7#', 'https://lichess.org/training/YEYrV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YeYYs', 'Rapid', 'riki2', 1922, 'ezembi', 2004, 'd4,Nf6,e3,g6,h3,Bg7,Nf3,O-O,Nbd2,d6,a3,Re8,b4,e5,c3,exd4,cxd4,Nd5,Bb2,Nxe3,fxe3,Rxe3+,Be2,Qe7,Kf2,Bf6,Re1,Bh4+,Nxh4,Qxh4+,Kg1,Bxh3,Bf3,Rd3,Re4,Qg5,Re8+,Kg7,d5+,f6,Qe2,Nd7,Rxa8,Rxd2,Qe7+,Kh6,Bxf6,Qxf6,Qxf6,Nxf6,gxh3,Kg5,Rxa7,Kf4,Rf1,Kg3,Ra8,Nh5,Re8,Nf4,Re3', 'Nxh3+,Kh1,Rh2#', 'https://lichess.org/training/YeYYs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEZ2e', 'Blitz', 'reza2014', 1901, 'orionchess', 2414, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Be7,e3,O-O,Be2,c5,O-O,Nc6,a3,dxc4,Bxc4,cxd4,exd4,a6,Be3,b5,Bd3,Bb7,h3,h6,Qd2,Rc8,Bxh6,gxh6,Qxh6,Re8,Ng5,Qxd4,Bh7+,Nxh7', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/yEZ2e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YEZcG', 'Blitz', 'HannHagen', 2389, 'IM Machinegunusa', 2536, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,Bc5,Nd6+,Kf8,Bc4,Na5,Nxf7,Qb6,Bd5,Bxf2+,Kf1,Nxd5,Qxd5,Qf6,Nxh8,Bd4+,Ke2,Qf2+,Kd3,Nc6,a3,Ne7,Qd6,b6,a4,Ba6+,Nb5,Rc8,Bd2,Ke8,Raf1,Qxg2,c3,Bb7,Re1,Qf3+,Kc2,Bxe4+,Kc1,Qd3,Nxd4', 'Qb1#', 'https://lichess.org/training/YEZcG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YeZmi', 'Rapid', 'Chesskey_Chessnek', 1845, 'AlexBjorn2000', 1730, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,Qe2,Be7,O-O,O-O,Nd2,Qc7,Nf3,d5,exd5,cxd5,Bb3,e4,Nd4,Bg4,f3,exf3,Nxf3,Rfe8,Qd3,Bxf3,Qxf3,Bc5+,Kh1,Ne4', 'Bxd5,Nf2+,Rxf2', 'https://lichess.org/training/YeZmi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEZN4', 'Rapid', 'BagasEDT', 1681, 'PaulBarber', 1710, 'e4,e5,d4,Qf6,dxe5,Qxe5,Nc3,Bb4,Bd2,Nf6,Nf3,Qe7,a3,Bxc3,Bxc3,Qxe4+,Be2,d6,O-O,O-O,Bxf6,gxf6,Bd3,Qg4,h3,Qg7,Kh1,Nd7,g4,Ne5,g5,Nxf3,Qxf3,fxg5,h4,f6,Rg1,h6,h5,Qd7,Bg6,Qh3+,Qxh3,Bxh3,Rg3,Bd7,f4,d5,fxg5,fxg5,Rc3,Bc6,Re1,d4+,Rxc6,bxc6,Re7,Rac8,Rh7,Rf1+,Kg2,Rcf8,Rxc7,R1f2+,Kg1,Rxc2,b4,d3,Bxd3,Ra2', 'Bc4+,Kh8,Bxa2', 'https://lichess.org/training/yEZN4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yEzUM', 'Rapid', 'Ivanstella', 1800, 'Quetzalc', 1733, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,c4,Bb4+,Bd2,Nxd2,Nbxd2,O-O,a3,Bxd2+,Qxd2,Re8+,Be2,dxc4,O-O,b5,a4,c6,axb5,cxb5,b3,Bg4,bxc4,bxc4,Rfc1,Nc6,Rxc4,Bxf3,Bxf3,Ne5,Rca4,Nxf3+,gxf3,Re6,d5,Rg6+,Kf1,Qb6,Ra6', 'Qb5+,Qe2,Rg1+,Kxg1,Qxe2', 'https://lichess.org/training/yEzUM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yf0YJ', 'Blitz', 'LNXTSU003', 1769, 'ASRGT90', 1634, 'e4,e5,c3,Nf6,d4,exd4,cxd4,Nxe4,Bd3,Nxf2,Kxf2,Qf6+,Nf3,Nc6,Bg5,Qd6,Re1+,Be7,Nc3,O-O,Bxe7,Nxe7,Ne5,Qxd4+,Re3,d6,Bxh7+,Kxh7,Qxd4,dxe5,Rxe5,Ng6,Rh5+,Kg8,Ne4,Be6,Ng5,Rfd8,Qe4,Rd2+,Kg1,Bd5,Qe3,Rxg2+,Kf1,Rxb2,Re1,Rxa2,Qe8+,Rxe8,Rxe8+,Nf8', 'Rh8+,Kxh8,Rxf8#', 'https://lichess.org/training/Yf0YJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YF1jx', 'Blitz', 'AdditionalField', 2159, 'Star_Trek_8', 2242, 'e4,c5,c3,b6,d4,Bb7,Bd3,Nf6,f3,e6,Ne2,Be7,O-O,O-O,Be3,d6,Nd2,Nbd7,g4,cxd4,cxd4,e5,d5,h6,Ng3,Nh7,Nf5,Ng5,h4,Nh3+,Kh2,Nf4,Bxf4,exf4,h5,Ne5,Nb3,Bg5,Rc1,g6,hxg6,fxg6,Nfd4,Bh4,Ne6,Bg3+,Kg2,Qf6,Nxf8,Rxf8,Rc7,Bc8,Be2,h5,Qc2,Bxg4,fxg4,hxg4,Rc8,Qh4,Rh1,f3+,Kg1,Bh2+,Rxh2,Qg3+,Kh1', 'Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/YF1jx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yF4mA', 'Classical', 'Pedramlupin', 1663, 'Bloodytroll', 1678, 'e4,e5,Nc3,c5,Nf3,Nc6,g3,a6,Bg2,b5,a3,Bb7,O-O,Nd4,Nxe5,Bd6,Nf3,Ne7,Nxd4,cxd4,Nd5,Nxd5,exd5,O-O,Qg4,a5,Qxd4,Qc7,Qc3,Qb6,d3,b4,axb4,axb4,Be3,Rxa1,Bxb6', 'Rxf1+,Kxf1,bxc3', 'https://lichess.org/training/yF4mA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YF84U', 'Rapid', 'FractalGaming', 1998, 'Babola73', 1995, 'c4,Nf6,Nc3,e5,d3,Bc5,Bg5,d6,Nd5,Nbd7,a3,a5,e3,O-O,Qf3,c6,Nc3,Qb6,Rb1,Ne8,Be7,f5,Bxf8,Kxf8,Qxf5+,Ndf6,Qf3,Bf5,Na4,Qa7,Nxc5,Qxc5,h3,d5,g4,Bxd3,Bxd3,Kg8,Qf5,e4,Be2,Nd6,Qe6+,Kh8,cxd5,cxd5,f4', 'Re8,Qe5,Rxe5', 'https://lichess.org/training/YF84U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yf8im', 'Rapid', 'greco2018', 1993, 'Chessperfectionest', 1976, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d6,e4,Nbd7,Bf4,O-O,h3,Re8,Bd3,e5,dxe5,dxe5,Bg5,h6,Bh4,Nc5,Bc2,Qxd1+,Rxd1,c6,O-O,Be6,b3,a5,Bg3,Nfd7,Rd2,Rad8,Rfd1,f6,Na4,Nxa4,bxa4,Kf7,Bb3,Ke7,Ne1,Nc5,Rxd8,Rxd8,Rxd8,Kxd8,f3,Kc7,Bf2,Bf8,Kf1,Nxb3,axb3,Bb4,Nd3,Bc3,Ke2,Bd4,Bxd4,exd4,Nc5,Bc8,f4,Kb6,Nd3,c5,e5,fxe5,Nxe5,Bf5,g4,Bc2,Kd2,Bxb3,Nxg6,Bxc4,f5,Bg8,f6,Kc7,Ne5,Kd6', 'f7,Bxf7,Nxf7+', 'https://lichess.org/training/yf8im');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yf8mR', 'Rapid', 'AlexConev', 1899, 'bandan-makuraninabas', 1675, 'd4,Nf6,c4,e5,e3,Bb4+,Nc3,d5,Bd2,O-O,c5,Bg4,Be2,Bxe2,Ngxe2,exd4,exd4,Ne4', 'Nxe4,Bxd2+,Nxd2', 'https://lichess.org/training/Yf8mR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yF8nr', 'Blitz', 'facia', 1767, 'roman68', 1788, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Bg5,Be7,Bb5+,Bd7,Bc4,Nc6,O-O,h6,Bh4,O-O,Nf3,Qc7,Qd2,a6,Rad1,g5,Bxg5,hxg5,Qxg5+,Kh8,Qh6+,Nh7,Rd3,Rg8,h4,Rg6,Qh5,Rag8,Ng5,Bxg5,hxg5,Rxg5,Qxf7,Rxg2+,Kh1,d5,Rh3,R2g7,Qf6,dxc4,Rg1,Qe5', 'Rxh7+,Kxh7,Qh4+,Qh5,Qxh5#', 'https://lichess.org/training/yF8nr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfA9Y', 'Blitz', 'erfankhann', 2452, 'IM JohnLeal', 2498, 'g3,Nf6,Bg2,d5,Nf3,g6,c4,Bg7,cxd5,O-O,Nc3,Nxd5,h4,Bg4,h5,Bxh5,Nh2,Nf6,Bxb7,Nbd7,Bxa8,Qxa8,f3,g5,g4,Bg6,e4,Nc5,d4,Ncxe4,fxe4,Nxe4,Nxe4', 'Qxe4+,Kf2,Bxd4+', 'https://lichess.org/training/yfA9Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFAGf', 'Rapid', 'ONYX36', 1650, 'albatros16', 1708, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Bc4,Nf6,Nd2,Bd7,O-O,O-O,N4f3,Be6,Bxe6,fxe6,Ng5,Qd7,c4,e5,Nb3,h6,Nf3,Nxe4', 'Qd5+,Kh8,Qxe4', 'https://lichess.org/training/YFAGf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yfapf', 'Blitz', 'MarioCrippa', 1849, 'yapenguin', 1949, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Qc7,Nc3,Nf6,Be3,Bb4,Bd3,Nc6,Nxc6,dxc6,O-O,e5,f4,Ng4,Qe2,Qe7,Kh1,O-O,a3,Bd6,f5,h5,h3,Nxe3,Qxe3,Qf6,Qf3,h4,Ne2,a5,g4,hxg3,Nxg3,Bc5,Kh2,Qh4,Nh5,g6,Rg1,Kh7,Rg3,gxh5,f6,Bg4,Qg2,Rg8,Rf1,Be6,Rff3,Rxg3,Rxg3,Bb6', 'Rg7+,Kh8,Rh7+,Kxh7,Qg7#', 'https://lichess.org/training/Yfapf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YfbbO', 'Rapid', 'laslonadjlacika', 1713, 'Byee', 1711, 'e4,e5,h3,Nf6,Qf3,Bb4,b3,O-O,Bb2,Re8,Bc4,Nc6,a3,Ba5,g4,d5,Bxd5,Nxd5,exd5,Nd4,Bxd4,exd4+,Ne2,Qg5,O-O,Bd7,Nxd4,Bb6,c3,Bxd4,cxd4,Bb5,Rd1', 'Be2,Qxe2,Rxe2', 'https://lichess.org/training/YfbbO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YfC5s', 'Rapid', 'elbana15', 1789, 'chess_for_fun1', 1801, 'e4,e5,Bc4,Nf6,Qf3,Nc6,Ne2,d6,h3,a6,a3,b5,Ba2,Be6,Nbc3,Bxa2,Nxa2,Be7,Nac3,O-O,d3,h6,Be3,Qd7,g4,Rad8,Nd5,Nxd5,exd5,Nd4,Nxd4,exd4,Bxd4,Bg5,h4,Rfe8+,Kf1,Be7,Re1,Bf8,g5,Rxe1+,Kxe1,Qe7+,Kf1,hxg5,hxg5,Qxg5,Rg1,Qc1+,Kg2,Qg5+,Kh2', 'Qh4+,Kg2,Qxd4', 'https://lichess.org/training/YfC5s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFcEh', 'Blitz', 'Oscar1022', 1622, 'Bastapizza', 1573, 'e4,d5,exd5,Nf6,c4,e5,Nc3,Bb4,a3,Bxc3,dxc3,O-O,Bd3,Bg4,f3,Bh5,g4,Bg6,Bxg6,fxg6,Nh3,c6,Bg5,cxd5,cxd5,Qa5,b4,Qxd5,Qxd5+,Nxd5,c4,Nf4,Nxf4,exf4,Be7,Re8,O-O-O,Rxe7,Rd8+,Kf7,Rhd1,a5,b5,Re8,c5,Ke7,R8d4,a4,Re1+,Kf7', 'Rxf4+,Kg8,Rxe8#', 'https://lichess.org/training/YFcEh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFDmu', 'Rapid', 'HA1F15CH', 1633, 'IsaevLev', 1643, 'e4,Nc6,Nc3,Nf6,Bc4,Nxe4,Nxe4,d5,Nf6+,exf6,Bb3,Bc5,c3,Bf5,d4,Bb6,Nf3,Qe7+,Be3,O-O,O-O,Rfe8,Re1,Qd6,Nh4,Bd7,Qh5,g6,Nxg6,fxg6,Bxd5+,Kh8,Qf3,f5,Bh6,Rxe1+,Rxe1,a5,Qe3,Qxd5,b3,Qf7,Qg5,a4,d5,Na7,Re7,Re8,Rxe8+,Bxe8,Qd8,Qd7', 'Qf6+,Kg8,Qf8#', 'https://lichess.org/training/YFDmu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFDR2', 'Blitz', 'Omskchess', 1992, 'shahmatist05', 1820, 'd4,e6,c4,b6,Nc3,g6,e4,Bg7,Be3,c6,Bd3,d5,cxd5,exd5,e5,c5,Nge2,cxd4,Bxd4,Bb7,O-O,Ne7,f4,O-O,Kh1,Nbc6,Bg1,d4,Ne4,Nd5,Nd6,Rb8,Nxd4,Nxd4,Bxd4,f6,Bc4,Kh8,Bc3,Ne3,Qe2', 'Bxg2+,Kg1,Bxf1,Qxe3,Bxc4', 'https://lichess.org/training/YFDR2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfdwG', 'Rapid', 'javiermu', 1839, 'Anthony_Lts', 1868, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,Nxc6,dxc6,O-O,Bc5,h3,O-O,Kh1,e5,f4,exf4,Bxf4,Be6,Bg5,Be7,e5,Nd5,Bxe7,Qxe7,Nxd5,Bxd5,Qh5,g6,Qe2,Qh4,Qe3,Rae8,Rf4,Rxe5,Qxe5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/yfdwG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFDy3', 'Rapid', 'senca', 1989, 'mi88', 1951, 'd4,d5,Bf4,Nf6,e3,Bf5,Bd3,Bxd3,cxd3,e6,Nc3,a6,Nge2,c5,dxc5,Bxc5,d4,Bd6,Bg3,Nc6,a3,O-O,Bh4,Rc8,Ng3,b5,Nh5,Be7,O-O,Nxh5,Bxe7,Qxe7,Qxh5,Na5,e4,dxe4,Nxe4,Nb3,Rad1,Rc2,Nc5,Nxc5,dxc5,Rxc5,Qf3,Rfc8,h3,h6,Rd2,Rc2,Rfd1,Rxd2,Rxd2,Rc1+,Kh2,Qc7+,g3,a5,Kg2,a4,h4,Rc2', 'Qa8+,Kh7,Qe4+', 'https://lichess.org/training/YFDy3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yFEeY', 'Rapid', 'BalloonRabbit', 2182, 'segad', 2070, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,O-O,exd4,Nxd4,Re8,Re1,Nxe4,Nxe4,Rxe4,Be3,Re8,Bf3,Nd7,Qd2,Nc5,b4,Ne6,Nxe6,Bxe6,Bxb7,Rb8,Bc6,Bxa1,Rxa1,Bd7,Bg5,f6,Bxd7,fxg5,Bxe8,Qxe8,a3,Qf7,Qxg5,Qxc4,h4,Re8,h5,Qf7,Rc1,Re2,hxg6,hxg6,Qd8+,Re8,Qxc7', 'Re1+,Rxe1,Qxc7', 'https://lichess.org/training/yFEeY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfegq', 'Rapid', 'PawnEnvy', 1953, 'selomelo2801', 1928, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,f4,Nc6,Be3,Nf6,Nc3,h6,Bd3,Bg4,Qc1,e6,h3,Bh5,O-O,Be7,Nxc6,bxc6,f5,exf5,exf5,Nd5,Nxd5,cxd5,Qd2,Bg5,Rfe1,O-O,Bxg5,hxg5,g4,Bg6,fxg6,fxg6,Bxg6,Qb6+,Kg2,Qxb2,Qxd5+,Kh8,Rab1,Qf6,Bf5,Rfe8,Re6,Rxe6,Qxe6,Qd4,Qe4,Qd2+,Kg3,Qc3+,Qd3,Qe5+,Kg2,d5,Rf1,d4,Be4,Rc8,Rf5,Qe6,Bd5,Qe1,Rf2,Qe5,Bb3,Rc3,Qf5,Qg3+,Kf1,Qxh3+,Ke1,Qh1+,Ke2', 'Re3+,Kd2,Qe1#', 'https://lichess.org/training/yfegq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yFeM5', 'Rapid', 'AndrewPBell', 2013, 'Stallion28', 2057, 'c4,Nf6,Nc3,e6,g3,d5,cxd5,exd5,Bg2,c6,d4,h5,h4,Bd6,Nf3,Bg4,Bg5,Nbd7,Qc2,O-O,O-O,Qc7,e4,dxe4,Nxe4,Bf5', 'Nxf6+,Nxf6,Qxf5', 'https://lichess.org/training/yFeM5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yFfEb', 'Blitz', 'sr_ooke_too', 1832, 'rafalov35', 1860, 'e4,d6,Nc3,Nf6,Bc4,e5,d3,c6,a3,Be7,f4,Nbd7,Nf3,Qc7,O-O,O-O,Ne2,b5,Ba2,a5,Ng3,Bb7,f5,b4,Ng5,h6,Nf3,d5,Nh4,c5,Nh5,Nxh5,Qxh5,Nf6,Qf3,dxe4,Qg3,Kh7,Bxh6,gxh6,Ng6,Nh5,Qg4,fxg6', 'Qxg6+,Kh8,Qxh6#', 'https://lichess.org/training/yFfEb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfFkF', 'Blitz', 'tamik', 2519, 'IM KeyzerSoze', 2545, 'e4,e5,Nf3,d6,Bc4,Nf6,d3,Be7,O-O,O-O,Re1,Nc6,Nc3,Be6,Nd5,Bxd5,Bxd5,Nxd5,exd5,Nb8,d4,exd4,Qxd4,Bf6,Qb4,Qc8,Bg5,Na6,Qh4,Bxg5,Qxg5,h6,Qf4,Qd7,Nd4,Rfe8,Nf5,Rxe1+,Rxe1,Re8,Re3,Rxe3,fxe3,h5,Qg5,g6,Ng3,Kh7,Ne4,Kg7,Nf6,Qa4,Nxh5+,Kh7,Nf6+,Kg7,Ng4,Qxc2', 'Qh6+,Kg8,Nf6#', 'https://lichess.org/training/yfFkF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfg7d', 'Classical', 'HornbergerMD', 2089, 'capivarachess', 1668, 'Nf3,f5,d3,Nf6,e4,d6,exf5,Bxf5,d4,g6,Bd3,Be6,O-O,Bg7,Re1,Bg4,h3,Bxf3,Qxf3,Nc6,c3,O-O,Bg5,Kh8,Nd2,Qd7,Bb5,a6,Ba4,b5,Bb3,e5,Bd5,Nxd5,Qxd5,exd4,Nf3,dxc3,bxc3,Bxc3,Rac1,Bxe1,Rxc6,Rf5,Qe4,Re8,Qc2,Bxf2+,Kxf2,Ref8,Rxc7,Qe6,Qb2+,Qe5,Bc1,Kg8,Rc6,Rxf3+,gxf3,Qh2+,Ke3,Qxh3,Qb3+,Rf7,Rxa6,Qxf3+,Kd2,Qg2+,Kd3,b4,Rxd6', 'Qg3+,Kc2,Qxd6', 'https://lichess.org/training/yfg7d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfHKg', 'Rapid', 'TacticalTim', 1912, 'UkaLaBJK', 1866, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,Nf3,Bg4,Qb3,Nc6,Be3,Bxf3,gxf3,dxe5,d5,Nd4,Bxd4,exd4,Bd3,e6,dxe6,fxe6,Nd2,Bd6,Ne4,O-O', 'c5,Nd5,cxd6', 'https://lichess.org/training/yfHKg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFhRO', 'Blitz', 'haakon0603', 1713, 'Mohammadbrd', 1699, 'd4,g6,Nf3,Bg7,Bf4,d6,e3,Nf6,c3,Nh5,Bg3,Bg4,Nbd2,Nd7,Be2,e5,dxe5,Nxe5,Qb3,Nxf3+,Bxf3,Bxf3,Nxf3,Nxg3,hxg3,b6,Qb5+,Qd7,Qd5,c6,Qb3,b5,a3,a5,Ng5,h6,Ne4,a4,Qc2,f5,Nd2,Ra7,Rh4,Rb7,g4,Bf6,Rh3,c5,gxf5,Qxf5,Qd1,d5,Rf3,Qe6,Kf1,h5,Qc2,Rg7,Re1,Kd7,e4,dxe4,Nxe4,Qc4+,Kg1,Be7,Rd1+,Kc7,Ng3,g5,Rfd3,Bf6,Nf5,Rgh7,Rd6,Bd8,Ra6,h4,Rdd6,h3,Rdc6+,Kb7,Nd6+,Kb8,Qf5', 'h2+,Kh1,Qf1#', 'https://lichess.org/training/YFhRO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yFHVu', 'Rapid', 'pawn_grabber', 1734, 'AcHmAz_M', 1766, 'd4,d5,c4,e6,cxd5,exd5,e3,Nf6,h3,Bf5,g4,Bg6,f4,Be4,Rh2,Nbd7,g5,Ng8,a3,Bd6,b4,Ne7,h4,Nf5,h5,c6,b5,Qc7,Bd2,O-O-O,Nc3,Kb8,bxc6,Qxc6,Nxe4,dxe4,Rc1,Qb6,a4,Ng3,Bg2,Bxf4,exf4,Qxd4,Ne2,Nxe2,Qxe2,Nc5,Rh1,Nd3+,Kf1,Nxc1,Bxc1,Rhe8,Be3,Qxa4,Kf2,Rd3,Rc1,Qa3,Bxe4,Rxe4,Qc2,Re8', 'Qc7+,Ka8,Qc8+,Rxc8,Rxc8#', 'https://lichess.org/training/yFHVu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YfiHS', 'Blitz', 'BeyondTwoNails', 1639, 'datschi2004', 1634, 'd4,c5,d5,Nf6,c4,e6,Nc3,d6,e4,e5,Bg5,Be7,Nf3,O-O,Be2,a6,O-O,Nbd7,Bxf6,Bxf6,Nd2,Rb8,Re1,b5,a3,bxc4,Bxc4,Rxb2,Bb3,Qa5,Qc1,Rxd2,Qxd2,Bg5,Qc2,Nf6,h3,Qd8,Ne2,a5,Ng3,Ba6,Bc4,Bxc4,Qxc4,g6,Rab1,Bh6,Rb5,Bd2,Re2,Bf4,Qc3,Qc7,Reb2,Ra8,Rb7,Qd8,Qd3,Kg7,Ne2,a4,Nxf4,exf4,Qf3,g5,h4,h6,hxg5,hxg5,Re2,Qe8,Rbb2,Rb8,Rxb8,Qxb8,e5,Qb1+,Kh2,dxe5,Rxe5,Qg6,Re7,Qh7+,Kg1,Qb1+,Kh2,Qh7+,Qh3', 'Ng4+,Kg1,Qb1+,Re1,Qxe1#', 'https://lichess.org/training/YfiHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFIsD', 'Classical', 'tweatsfood', 1662, 'Leifk', 1736, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,a6,Be2,e6,Qd2,Be7,O-O,Nxd4,Bxd4,e5,Be3,O-O,f3,Qc7,Rad1,Be6,a3,Rfd8,Rc1,Rac8,Nd5,Nxd5,exd5,Bf5,c3,Qd7,Bd3,f6,c4,Rf8,b4,Bxd3,Qxd3,b5,c5,dxc5,Bxc5,Bd6,Be3,Qb7,Rfd1,Qb8,Bc5,Rfd8,Qf5,Qb7,Bxd6,Rxc1,Rxc1,Rxd6,Qc8+,Qxc8,Rxc8+,Kf7,Rc5,Kg6,Kf2,Kf5,Ke3,h5,h3,h4,g4+,hxg3,h4,g6,Ke2,Kf4', 'Rc6,Rxc6,dxc6,g2,Kf2', 'https://lichess.org/training/YFIsD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFlH0', 'Blitz', 'LA-789', 1692, 'Pakop_D', 1929, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,cxd4,cxd4,Bb4+,Nc3,Nge7,a3,Ba5,b4,Bb6,Bg5,h6,Bh4,g5,Bg3,Nf5,Bb5,Bd7,Ne2,Nxg3,hxg3,a6,Ba4,Qe7,Qd2,O-O-O,O-O,Rdg8,b5,axb5,Bxb5,Na5,Rab1,Bxb5,Rxb5,Nc4,Rc1,Ba7,Qa5,Kb8,Qc3,Rc8,Rcb1,Rc7,a4,h5,Ne1,g4,Nd3,h4,a5,hxg3,Nxg3,Qh4,a6', 'Qh2+,Kf1,Ne3+,Ke2,Rxc3', 'https://lichess.org/training/YFlH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YfM2u', 'Rapid', 'Hwyrion', 1792, 'yukyuk', 1795, 'e4,c5,Nc3,Nc6,f4,g6,Bb5,a6,Bxc6,bxc6,Nf3,d5,e5,f6,O-O,e6,d3,Qc7,exf6,Nxf6,Re1,Bd6,g3,O-O,Ng5,e5,Qf3,h6,fxe5,Bxe5,Nge4,Nxe4,Nxd5,cxd5,Qe3,Nxg3,Qxe5,Qxe5,Rxe5,Rf5,Re8+,Kf7,Rh8,Ne2+,Kg2,Nxc1,Rxc1,h5,Re1,Be6,Rxa8,c4,dxc4,dxc4,Rxa6,Bd5+,Kg3,g5,Ra7+,Kf6,Ree7', 'Rf3+,Kg2,Re3+,Kf2,Rxe7,Rxe7,Kxe7', 'https://lichess.org/training/YfM2u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfO57', 'Blitz', 'BMWX5', 2088, 'notpartizan', 2122, 'd4,Nf6,Bg5,Ne4,Bh4,g5,Bg3,Nxg3,hxg3,Bg7,e3,d6,Bd3,h6,Nc3,b6,Nf3,Bb7,Qe2,Nc6,O-O-O,Qd7,Kb1,O-O-O,g4,Nb4,a3,Nxd3,Rxd3,Ba6,Rhd1,Bxd3,cxd3,c5,Nd2,cxd4,exd4,Bxd4,Qe4,Bxf2', 'Qa8+,Kc7,Nd5#', 'https://lichess.org/training/yfO57');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yFOJu', 'Classical', 'neyzenn', 1604, 'XorowiiChelovek', 1678, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Be2,Qf6,O-O,Be7,Bb5+,c6,Bd3,d5,Re1,Bf5,c4,O-O,Bxe4,dxe4,Bg5,Qe6,d5,cxd5,Nd4,Qe5,Bxe7,Qxe7,Nxf5,Qe5,Qxd5,Qxb2,Nd2,Nc6,Reb1,Qc2,Nxe4,Rad8,Nh6+,gxh6,Nf6+,Kh8,Qf3,Ne5,Qh3,Qg6,Nd5,Nxc4', 'Qc3+,Ne5,Qxe5+', 'https://lichess.org/training/yFOJu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yFokU', 'Rapid', 'Hakeemo', 1693, 'James_Winchester', 1601, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,Be7,Bc4,O-O,O-O,d6,Bg5,Be6,Bd3,c5,Qe3,d5,e5,d4,Qg3,Nh5,Bxe7,Qxe7,Qf3,dxc3,Qxh5,g6,Qe2,cxb2,Rab1,f6,Rxb2,fxe5,Qxe5,Rfe8,Re1,Qf8,Qc7,Bf7,Rxb7,Rxe1+,Bf1,Rxf1+,Kxf1,Bc4+,Kg1,Qf6,Qxh7+,Kf8,Qh6+,Ke8,Qe3+,Kf8', 'Qxc5+,Ke8,Qxc4,Qa1+,Qf1', 'https://lichess.org/training/yFokU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yFplh', 'Rapid', 'Mahmood2020', 1813, 'Airon8', 2003, 'd4,Nf6,e3,e6,Nf3,b6,c4,Bb7,Be2,d5,Nc3,Be7,O-O,O-O,a3,dxc4,Bxc4,c5,dxc5,Bxc5,Be2,Nc6,Qc2,Qc7,Nb5,Qb8,Rd1,Rd8,b4,Rxd1+,Qxd1,Be7,Bb2,Qd8,Nbd4,Rc8,Rc1,Nxd4,Bxd4,Rxc1,Qxc1,Ne8,Qc3,Bf6,Ne5,Qc7,Bf3,Bxf3,Nxf3', 'Qxc3,Bxc3,Bxc3', 'https://lichess.org/training/yFplh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFpyr', 'Rapid', 'chess123boggle', 2019, 'xmarshall', 2094, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Nxc3,Bc5,Bc4,d6,Qb3,Na5,Bxf7+,Kf8,Qa4,Kxf7,Qxa5,h6,O-O,Nf6,e5,Ng4,Ne4,Bb6,Qd5+,Be6,Qxb7,dxe5,h3,Bd5,Qa6,Bxe4,Qc4+,Qd5,Qxd5+,Bxd5,hxg4,Bxf3,gxf3,h5,g5,Kg6,Kg2,Raf8,Bd2,Bd4,Rac1,c5,b3,Rf5,a3,h4,b4,cxb4,Rc6+,Kh5,axb4,h3+,Kg3,Rb8,Kxh3,Rxf3+,Kg2,Rd3,Rh1+,Kg4,Be1,Kxg5,Rd6,Rc8,b5,Rb3,Bd2+,Kf5,f3,Be3,Rh5+,Kf4,Rg6,Bxd2,Rg4+,Ke3,Rxe5+,Kd3,Rxg7,Bc3,Rd7+,Kc4,Re4+,Kxb5', 'Rb7+,Kc5,Rxb3', 'https://lichess.org/training/YFpyr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YfPZ0', 'Rapid', 'Gialess', 2330, 'neronespartacus94', 2389, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,c6,Be3,e6,Bd3,Nbd7,O-O,Bd6,Ne4,Nxe4,Qxe4,Nf6,Qf3,O-O,c3,Nd5,Bd2,Qh4,Rfe1,Qf6,Qe4,g6,g3,Rfe8,a3,e5,c4,exd4', 'Qxe8+,Rxe8,Rxe8+,Kg7,cxd5', 'https://lichess.org/training/YfPZ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yFq7L', 'Rapid', 'pattman2200', 2097, 'Arcaneee', 2068, 'e4,c5,Nf3,d6,c3,Nf6,Qc2,Nc6,Bb5,e5,d4,exd4,cxd4,cxd4,Nxd4,Bd7,Be3,Rc8,Nc3,Nxd4,Bxd7+,Qxd7,Bxd4,d5,Bxf6,gxf6,O-O,d4,Rad1,Bd6,Qd2,dxc3,Qxd6,Qxd6,Rxd6,c2,Rc1,Ke7,Rd2,Rhd8,Rxd8', 'Rxd8,g3,Rd1+', 'https://lichess.org/training/yFq7L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFtw5', 'Rapid', 'Vini700', 1997, 'balous', 1996, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,d5,Ne5,bxc3,Nxf3+,Qxf3,Nf6,Re1+,Kf8,Bg5,d6,h3,h6,Bh4,g5,Bg3,Kg7,h4,Bg4,Qd3,Qd7,Bb3,Rhe8,Bc2,Rxe1+,Rxe1,Re8,Rxe8,Qxe8,f3,Bd7,hxg5,hxg5,c4,Qh8,Be1,Qh7,Qd2,Bf5', 'Qxg5+,Qg6,Qxf5,Qxf5,Bxf5', 'https://lichess.org/training/YFtw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfufS', 'Classical', 'dubrovnika', 1914, 'TheKingCharlesCav', 1921, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Qd5,f6,exf6,Nxf6,Qd1,g6,e3,Bg7,Bc4,Qb4+,Nbd2,d5,Be2,O-O,O-O,Ne4,c3,Qe7,Nxe4,dxe4,Nd4,Ne5,Qc2,c5,Nb3,Nf3+,Bxf3,exf3,g3,Qe6,Nd2,Qh3,Nxf3,Rxf3,Qd3,Bf5', 'Qd5+,Be6,Qxf3', 'https://lichess.org/training/yfufS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfUnG', 'Classical', 'HeroineBaby', 1846, 'amateur71', 1814, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,d6,Qd2,Be7,Bd3,Nf6,O-O-O,O-O,f4,Qc7,h3,Nxd4,Bxd4,b5,e5,dxe5,Bxe5,Qa5,Kb1,Rd8,g4,Bb7,Rhg1,Nd5', 'Nxd5,Qxd2,Nxe7+', 'https://lichess.org/training/yfUnG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yFvUb', 'Blitz', 'Khachaturov', 1612, 'Gevgev78', 1650, 'e4,e5,f4,exf4,Nf3,d6,d4,Nf6,Bc4,Nxe4,Bxf4,Bg4,O-O,d5,Bd3,Bd6,Bxd6,Qxd6,Bxe4,dxe4,Re1,Bxf3,Qxf3,Qxd4+,Kh1,O-O,Qxe4,Qxb2,Nd2,Nc6,Nc4,Qf6,Rf1,Qe6,Qf4,Nb4,Rae1,Qa6,Ne5,Rae8,Nxf7,Rxe1', 'Nh6+,Qxh6,Qxf8#', 'https://lichess.org/training/yFvUb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfWFS', 'Rapid', 'pdfowler1869', 1891, 'Liashyk_Ivan', 1895, 'c4,c5,g3,Qc7,Bg2,Nf6,Nc3,a6,Nf3,e6,d3,d6,O-O,g6,Rb1,Bg7,Bd2,Nbd7,a3,Rb8,b4,O-O,bxc5,Nxc5,a4,b6,Qc2,Bb7,Rb2,d5,Rfb1,dxc4,Bf4,cxd3,exd3,Qd7,Bxb8,Rxb8,Rxb6,Rc8,Ne5,Qd4,Bxb7,Nxb7,Rxb7,Qxe5,R7b3,Nd5,f4,Qe3+,Kf1,Bxc3,Rb8,Qf3+,Qf2,Qxd3+,Kg2,Rxb8,Rxb8+,Kg7,Qa7,Bd4,Qa8,Qf5,Rg8+,Kh6,Kf3,Qh5+,Ke4,Ba1', 'Qf8+,Bg7,Qxg7#', 'https://lichess.org/training/yfWFS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFwlt', 'Rapid', 'jebbynater', 1659, 'Benpanda', 1854, 'd4,Nf6,Nf3,g6,c4,Bg7,g3,O-O,Bg2,c6,O-O,d5,b3,dxc4,bxc4,c5,e3,Nc6,Bb2,Nd7,Nbd2,cxd4,exd4,Nc5,Rb1,Nd3,Bc3,Nxd4,Nxd4,Bxd4,Qb3,Bf5,Ra1,Bb6,Bd5,Qc7,a4,e6,Ne4,f6,c5,Nxc5,Nxc5,exd5,Bb4,Rfd8,Rfc1,Qf7,a5,Bxc5,Rxc5,d4,Qxf7+,Kxf7,Rd1,Rd7,h4,d3,Bc3,h5,Rc4,Re8,Rd4,Rxd4,Bxd4,a6,Kg2,Rd8,Bb6,Rd6,f4,Ke7,Bc5,Be4+,Kf2,Ke6,Bxd6,Kxd6,Ke3,Kd5,Kf2,Bf5,Kf3', 'Bg4+,Ke3,Bxd1', 'https://lichess.org/training/YFwlt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yFY3I', 'Blitz', 'sergejgubcenko', 1959, 'shqiptarov', 1951, 'e4,c5,d3,g6,Be3,Bg7,Nc3,d6,Nf3,Nc6,g3,Bg4,Bg2,Nf6,h3,Bd7,O-O,O-O,Kh2,a6,a3,h5,Ne2,Qc8,Nf4,Rb8,c3,b5,d4,Nxe4,dxc5,Nxc5,Bxc5,dxc5,Qc2,Bf5,Qe2,c4,Nh4,e5,Nxh5,Bd3,Qf3,e4,Nf6+,Kh8,Qf4,Bxf1', 'Nxg6+,fxg6,Qh4+,Bh6,Qxh6#', 'https://lichess.org/training/yFY3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfYcH', 'Rapid', 'PrivieS', 1669, 'tofi96', 1606, 'e4,d5,Qf3,dxe4,Qxe4,e6,Bb5+,c6,Ba4,Nf6,Qe3,Bb4,f4,Nd5,Qd4,Qh4+,g3,Qh6,c4,Nb6,c5,Nd5,Nf3,Na6,Ne5,Bxc5,Qd3,Nab4,Qc4,b5,Bxb5,cxb5,Qxc5,Bb7,Qd6,Rd8,Qc5,Rc8,Qxb5+,Bc6,Nxc6,Rxc6,Qb8+', 'Ke7,Qxa7+,Rc7,Qxc7+,Nxc7', 'https://lichess.org/training/yfYcH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yfza6', 'Rapid', 'AleksandarTot', 1946, 'Knoddel', 2051, 'b4,e6,Bb2,Nf6,b5,d5,e3,Bd7,c4,a6,a4,axb5,axb5,Rxa1,Bxa1,c6,Nf3,Bd6,Qc2,O-O,Ng5,h6', 'Bxf6,hxg5,Bxd8', 'https://lichess.org/training/yfza6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YFznb', 'Rapid', 'loggerhead', 1656, 'teletolumby', 1710, 'Nf3,d5,d4,c5,dxc5,Nc6,g3,e5,c3,Bxc5,Bg2,Nf6,O-O,O-O,e3,Bg4,Qb3,e4,Nd4,Qd7,Nd2,Ne5,f3,Bh3,fxe4,dxe4,Qc2,Nd3,Nxe4,Nxe4,Qxd3,Bxg2,Kxg2,Qd5,Kg1,Ng5,Qf5,Qxf5,Rxf5,Bxd4,exd4,Ne4,Bf4,Rfe8,Re5,g5,Bxg5', 'Rxe5,dxe5,Nxg5', 'https://lichess.org/training/YFznb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yG2rp', 'Rapid', 'AtaqueKamikaze', 1947, 'g3nksu', 1888, 'd4,e6,Bf4,c5,e3,cxd4,exd4,Nf6,c3,Nc6,Nf3,d6,Bd3,Be7,h3,O-O,Nbd2,Nd5,Bh2,e5,O-O,Nf4,Bxf4,exf4,Qc2,f5,Rfe1,Bg5,Nc4,Qf6,Qb3,Kh8,Nxg5,Qxg5,Nxd6,f3,Nf7+,Rxf7', 'Re8+,Rf8,Rxf8#', 'https://lichess.org/training/yG2rp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yg3wE', 'Blitz', 'Jorgeq111', 1576, 'neceseres', 1533, 'e4,c5,Nf3,Nc6,Bc4,d6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,O-O,Bg7,Nc3,e5,Be3,Ne7,Bg5,O-O,Ne2,Kh8,f4,exf4,Nxf4,f6,Bh4,g5,Ne6,Bxe6,Bxe6,gxh4,Qg4,Ng6,Bf5,Qe8,Rad1,Rd8,Rd3,Ne5,Qxh4,h6,Rg3,Rg8,Rxg7,Rxg7,Qxh6+,Kg8,Qxf6,Rdd7,Bxd7,Qxd7,Qf8+,Kh7,Rf5,Rf7', 'Rh5+,Kg6,Qh6#', 'https://lichess.org/training/Yg3wE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YG4K4', 'Blitz', 'ustadoram', 1684, 'Anjwii', 1705, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,Ng4,Bf4,d5,exd6,Bxd6,Bxd6,Qxd6,O-O,O-O,h3,Nge5,Nxe5,Nxe5,Bb3,Qg6,Kh1,Qh6,Qxd4,Qh5,Nc3,Bxh3,gxh3', 'Qxh3+,Kg1,Nf3#', 'https://lichess.org/training/YG4K4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yg6HH', 'Blitz', 'Lavoisier_Oliveira', 1774, 'Carlosmsm', 2019, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bd3,O-O,O-O,c6,Be3,h6,Qd2,Nbd7,Rad1,Ne5,f4,Ng6,Be2,Re8,f5,Ne5,Nf3,Nxf3+,Bxf3,Bf8,Be2,Nxe4,Nxe4,Rxe4,Rf3,Qe8,Rdf1,f6,Rg3,Kh8,Rff3,d5,Rh3,Kh7,Rfg3,c5,Bh5,Qe7,Bg6+,Kg8,c3,d4,c4,dxe3,Qd5+,Kh8,Bf7,Rd4', 'Rxh6+,gxh6,Rg8+,Kh7,Bg6#', 'https://lichess.org/training/Yg6HH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YGAiM', 'Blitz', 'IM KamranShirazi', 2499, 'warrior0506', 2369, 'e4,c5,b4,cxb4,a3,d5,exd5,Qxd5,Nf3,e5,c4,Qe6,d4,exd4+,Be2,Nc6,O-O,Nf6,Re1,Be7,Nxd4,Nxd4,Qxd4,O-O,axb4,Bxb4,Bd2,Bxd2,Nxd2,a6,Bf3,Qf5,Ne4,Nxe4,Rxe4,Be6,Rf4,Qg5,h4,Qe7,Re1,Rfd8,Qb2,Qc5,Qxb7,a5,Rxe6,fxe6,Qf7+,Kh8,Bxa8,Rxa8,Qxe6,a4,Rf5,Qb4,Qc6,Rd8,Qc7,Rg8,h5', 'Qb1+,Kh2,Qxf5', 'https://lichess.org/training/YGAiM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YgdJC', 'Rapid', 'Cristobaldoce', 1824, 'kethury', 2010, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Nc6,O-O-O,d5,h4,dxe4,fxe4,Bg4,Be2,Rc8,h5,Ne5,hxg6,fxg6,Bh6,Qa5,Bxg7,Kxg7,Bxg4,Nfxg4,Ne6+,Kg8,Nxf8,Rxf8,Rdf1,Rd8,Qf4,Qc5,Nd5', 'Nd3+,Kb1,Nxf4', 'https://lichess.org/training/YgdJC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YgeHM', 'Rapid', 'eitaho', 1717, 'Ragim05', 1701, 'd4,f5,c4,e6,Nc3,Nf6,e3,c5,Nf3,cxd4,exd4,b6,Bg5,Be7,Ne5,Bb7,Bxf6,Bxf6,Qh5+,Ke7', 'Qf7+,Kd6,Nb5#', 'https://lichess.org/training/YgeHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YgEJl', 'Rapid', 'HarryMaybourne', 2245, 'mutante07', 2236, 'c4,e6,Nc3,d5,cxd5,exd5,d4,c6,Bf4,Bd6,Bxd6,Qxd6,Nf3,Nf6,g3,O-O,Bg2,Re8,O-O,h6,Ne5,Qb4,Qd2,Bf5,e3,Nbd7,Nxd7,Nxd7,Ne4,Qxd2,Nxd2,Nf6,b4,Kf8,Rfc1,Ke7,Rc3,a5,b5,cxb5,Rc7+,Kd6,Rxb7,Bg6,Rxb5,Reb8,Rc5,Rb2,Nf3,a4,Ne5,a3,Rc6+,Ke7,Nxg6+,fxg6,Rc7+,Kf8,Rc5,Ng4,Bxd5,Rab8,Be6,h5,Ra5,Rb1+,Rxb1,Rxb1+,Kg2,Nf6,Rxa3,Rb2,Rb3,Rd2,Kf3,Ke7,Bc4,Ng4,Rb7+,Kd6,Rxg7,Rxf2+,Ke4,Rf6,h4', 'Nf2#', 'https://lichess.org/training/YgEJl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yGflG', 'Classical', 'I_Dan', 1909, 'Radiphus', 1999, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Bb5+,Bd7,Qe2+,Be7,O-O,Nf6,d4,O-O,Bg5,a6,Bxd7,Nbxd7,dxc5,Nxc5,Nc3,Nce4,Nxe4,Nxe4,Bxe7,Qxe7,Rfe1,Qb4,c3,Qc5,Rad1,Rad8,Nd4,Rfe8,Qd3,b5,a3,g6,Re2,Qc4,Qc2,Nf6,Rde1,Rxe2,Qxe2,Re8,Qd1,Rxe1+,Qxe1,Qa2,Qc1,Ne4,f3,Nd6,b3,Nb7,b4,Qc4,Qe3,Qc7,Qe8+,Kg7,Nc6,f6,Qe7+,Qxe7,Nxe7,Nd6,Nxd5,Nc4,Nc7,Nxa3,Nxa6,Nb1,Nc7,Nxc3,Kf2,Na2,Nxb5,Nxb4,Nd4,h5,h3,h4,Ke3,Kh6,Ke4,Kg5,f4+,Kh5,Kf3,Nd5,Ne6,Ne7,Ng7+,Kh6,Ne6,Nf5,Nc7,Kh5,Nd5,Nd4+,Ke4,Ne2,Nxf6+,Kh6,Kf3,Nd4+,Kg4,Nf5,Nd5,Kg7,Nc7,Ne3+,Kf3,Nf5,Kg4,Ne3+,Kxh4,Nxg2+,Kg5,Ne1,Ne8+,Kf7,Nc7,Nf3+,Kg4,Ng1,Nb5,Kf6,Nd6,Ke6,Nc4,Nxh3', 'Kxh3,Kf5,Kg3', 'https://lichess.org/training/yGflG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YgH06', 'Blitz', 'HubertHu', 1590, 'Molliejackson', 1691, 'd4,b6,Nf3,g6,Nc3,Na6,e3,h5,Bc4,Nb8,e4,h4,Bf4,Bh6,Nxh4,Bxf4,g3,Bh6,Qd3,a5,O-O,Ba6,Bxa6,Nxa6,Nd5,b5,Qxb5,g5,Nf5,f6,Nxh6,Rxh6,Qxa5,c6,Nc7+,Kf7,Nxa8,Qxa8,Qb6,Rh5,g4,Rh6,Rfd1,Qf8,Qxa6,Qb8,Rd3', 'Qxh2+,Kf1,Qh1+,Ke2,Qxa1,Rd1,Qxb2', 'https://lichess.org/training/YgH06');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YgI2U', 'Blitz', 'breneka', 1613, 'Fliko', 1611, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nb4,a3,Nxc2+,Kd1,Nxa1,Bxd5+,Kd6,Nb5+,Kd7,Qf7+,Be7,Qe6+,Ke8,Qf7+,Kd7,Re1,c6,Qe6+,Ke8', 'Qf7+,Kd7,Be6#', 'https://lichess.org/training/YgI2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ygias', 'Blitz', 'kaemingk', 1913, 'OverDragon', 1950, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d3,Bb4,Bd2,d6,Be2,Bg4,O-O,O-O,a3,Ba5,b4,Bb6,Nd5,Nxd5,exd5,Bxf3,Bxf3,Nd4,c3,Nxf3+,Qxf3,f5,Be3,Qf6,Bxb6,axb6,Rfc1,g5,c4,g4,Qe3,h5,Ra2,Rae8,Rd1,e4,dxe4,Rxe4,Qc1,Rfe8,a4,Qd4,Rc2', 'Qxd1+,Qxd1,Re1+,Qxe1,Rxe1#', 'https://lichess.org/training/ygias');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ygK6u', 'Blitz', 'DanilovoliNatasu', 1808, 'natsu4', 1841, 'd4,Nf6,c4,e6,Nc3,c5,d5,d6,Nf3,h6,e4,e5,Be3,Bd7,Be2,a6,Qb3,Qc7,O-O,g5,Bd2,a5,a4,Na6,Nb5,Bxb5,axb5,Nb4,Bxb4,cxb4,Rfc1,b6,Nd2,Be7,Nf1,O-O,Ne3,Nxe4,Qd3,f5,Nxf5,Rxf5,Qxe4,Raf8,Bd3,Kg7,g4,Qc5,gxf5,Bf6,Re1,Rd8,Re3,h5,Rh3,h4,Re1,Kf7,Ree3,Rg8,Qg4,Qd4,Qxd4,exd4,Re6,g4,Rxf6+,Kxf6,Rxh4,Kg5,Rh7,Kf4,Rd7,Kf3,Rxd6,Re8,Rxb6,Re1+,Bf1,d3,f6,d2,f7', 'Rxf1+,Kxf1,d1=Q#', 'https://lichess.org/training/ygK6u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YGmGI', 'Rapid', 'zagorac2105', 1995, 'rusax', 1928, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Nf6,Nxf5,Qa5+,c3,Qxf5,Nf3,e6,Bd3,Qg4,O-O,Bd6,h3,Qh5,Be3,Nd5,Be2,Nxe3,fxe3,Qh6,e4,Qe3+,Kh1,Qxe4,Bd3,Qf4,Qb3,b6,Rae1,O-O,Re4,Qf5,Nh4,Qg5,Rg4,Qd2,c4,Nd7,Nf3,Qb4,Qc2,Nf6,a3,Qa5,Rh4,g6,b4,Qxa3,Ng5,Nh5,Rxh5,gxh5,Bxh7+,Kh8,Be4,Qg3,Nf3,f5,Bxc6,Rac8,d5,Bxb4', 'Qb2+,e5,Qxb4', 'https://lichess.org/training/YGmGI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YgNiQ', 'Rapid', 'TJK125HQF', 2012, 'Volchenok', 1917, 'e4,e5,f4,exf4,d4,Nf6,Bd3,d6,Bxf4,Bg4,Nf3,Nc6,c3,Nh5,Be3,Be7,O-O,Qd7,Nbd2,O-O-O,d5,Ne5,Bxa7,Nxd3,Qb3,Bxf3,Nxf3,b6,Qc4,Nc5,b4,Kb7,bxc5,dxc5,a4,Kxa7,Ne5,Qc8,Nc6+,Kb7,a5,Rd6,Qa6+,Kxa6,axb6+,Kb7', 'Ra7+,Kxb6,Rb1#', 'https://lichess.org/training/YgNiQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yGnpv', 'Blitz', 'joop36', 1882, 'Oudeis', 1579, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Qc2,Re8,Bf4,Bg4,Be2,Nbd7,Rd1,e5,dxe5,Bxf3,Bxf3,Nxe5,Bxe5,Rxe5,O-O,Qe7,Rfe1,c6,g3,Rd8,Bg2,Nh5,f4,Rc5,b3,b5,e5,bxc4,Ne4,cxb3,Qxb3,Rb5,Qf3,dxe5,Rxd8+,Qxd8,Rd1,Qb6+,Kh1,exf4,Nd6,Rb1,Bf1,fxg3,hxg3,Rxd1', 'Qxf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/yGnpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yGNSo', 'Blitz', 'FM Lordiron', 2379, 'YouMustHaveBars', 2005, 'd4,g6,e4,Bg7,Nf3,d6,Bc4,c6,Qe2,Nd7,O-O,b5,Bb3,Qc7,c3,a5,a4,Ba6,axb5,cxb5,Bd5,Ra7,b4,a4,Na3,Ngf6,Nxb5,Bxb5,Qxb5,Nxd5,exd5,O-O,Rxa4,Rb8,Rxa7,Qxa7,Qd3,Nf6,Ng5,h6,Ne4,Nd7,Bd2,Qa3,Qc4,Qa7,Qc6,Nb6,Re1,Rc8,Qb5,Nc4,Bf4,g5,Bg3,Na3,Qd3,Nc4,h4,g4,h5,Qa3,Bf4,Nb2,Qg3,f5,Bxd6,exd6,Qxd6,Rf8,Qe6+,Kh8,Nd6,Qxc3,Re3,Qxd4,Nf7+,Kh7,Qg6+,Kg8,Nxh6+,Kh8,Nf7+,Kg8,h6,Rxf7,Re8+,Rf8,h7+,Kh8', 'Rxf8+,Bxf8,Qg8#', 'https://lichess.org/training/yGNSo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YGOOF', 'Blitz', 'Abhi2k14', 2074, 'gothamT41', 2010, 'e4,d5,e5,Bf5,g4,Bg6,h4,h6,h5,Bh7,d4,c5,Bd3,Bxd3,Qxd3,cxd4,Nf3,Nc6,Nxd4,e6,f4,Qb6,Nxc6,bxc6,Nc3,Bb4,Bd2,Ne7,O-O-O,Rc8,Na4,Qa5,Bxb4,Qxb4,Nc3,a5,Rhf1,a4,a3,Qb6,Nxa4,Qa5,b3,c5,f5,O-O,f6,Nc6,Qd2,Qa7,fxg7,Kxg7,Qf4,Qe7,g5,hxg5,h6+,Kxh6,Rh1+,Kg6,Qf3,Rh8,Qd3+,Kg7,Rhg1,c4,Qe3,Qxa3+,Kd2,Qb4+,c3,Qxb3', 'Qxg5+,Kf8,Qg7+,Ke7,Qf6+,Ke8,Qxh8+', 'https://lichess.org/training/YGOOF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yGOth', 'Rapid', 'chuckbranson', 2209, 'HellYeah7', 2181, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Nxd4,Bd7,O-O,Nf6,Nc3,Be7,Re1,O-O,Bf4,Bg4,f3,Bh5,Nf5,Qd7,Nxe7+,Qxe7,Bg5,h6,Nd5,Qe5,Nxf6+,gxf6,Bxh6,Rfe8,c3,Kh7,Qd2', 'Qc5+,Be3,Qxc4', 'https://lichess.org/training/yGOth');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ygpoI', 'Rapid', 'Roddz25', 1741, 'BolotBayke', 1897, 'd4,d5,c4,c6,c5,b6,cxb6,axb6,e3,Nf6,Nf3,Bg4,h3,Bh5,Be2,e6,Ne5,Bxe2,Qxe2,Bd6,f4,O-O,Qc2,Ne4,O-O,Bxe5,fxe5,f6,exf6,Rxf6,Rxf6,Qxf6,Nc3,Ng3,b3,c5,Bb2,Qg6,Qf2,Nd7,Kh2,Nf5,dxc5,bxc5,Ne2,Rf8,Nf4,Qg5', 'Nxe6,Qxe3,Qxe3,Nxe3,Nxf8', 'https://lichess.org/training/ygpoI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YGPvv', 'Blitz', 'delnevo50', 1944, 'JVmatatudo', 1973, 'd4,d5,Nf3,Nf6,c3,Bf5,Bg5,e6,Bxf6,Qxf6,e3,c5,Bd3,cxd4,Bxf5,Qxf5,exd4,Nc6,Nbd2,Bd6,Qe2,O-O,h3,Qg6,g4,f5,gxf5,Rxf5,Nh4,Qf6,Nxf5,Qxf5,O-O-O,Rf8,f3,e5,dxe5,Bxe5,Nb3,Bf4+,Nd2,Na5,Qb5,Nc4,Qxb7,Qd3,Rhg1,g6,Rg2,Nxd2,Rgxd2,Re8,Qd7', 'Bxd2+,Rxd2,Re1+,Rd1,Rxd1#', 'https://lichess.org/training/YGPvv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ygpxI', 'Blitz', 'Batyok', 1669, 'KAMION1', 1643, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nxc6,dxc6,Nc3,e5,Bc4,Nf6,O-O,Bb4,Na4,Qa5,c3,Be7,b4,Qc7,Bg5,b5,Bxf7+,Kxf7,Nc5,Bxc5,bxc5,Nxe4,Qf3+,Nf6,Rad1,Be6,Rd6,Rhe8,Rxc6,Qa5,Rd1,h6,Bxf6,gxf6,Rd7+,Bxd7,Qxf6+,Kg8,Qg6+,Kf8,Rf6+,Ke7,Rf7+,Kd8,c6,Qxc3', 'Rxd7+,Kc8,Qxe8#', 'https://lichess.org/training/ygpxI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YGPyo', 'Rapid', 'capitantrueno', 1761, 'ivan1521', 2007, 'e4,e5,Nf3,Nc6,c4,Nd4,d3,d6,a3,Bg4,Nbd2,Qd7,Be2,Nxe2,Qxe2,Nf6,O-O,O-O-O,Qe3,Kb8,b4,Nh5,Nh4,f5,exf5,Bxf5,Nxf5,Qxf5,Ne4,Nf4,a4,Qg6,g3,Ne6,a5,Nd4,Qg5', 'Nf3+,Kg2,Nxg5', 'https://lichess.org/training/YGPyo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YGq1M', 'Rapid', 'cronok', 1628, 'alpine_eagle94', 1700, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Be3,Qb6,Nc3,cxd4,Bxd4,Nxd4,Nxd4,Bc5,Na4,Qb4+,c3,Qa5,Bb5+,Bd7,Bxd7+,Kxd7,Nxc5+,Qxc5,Qa4+,Ke7,O-O,Nh6,Kh1,Rhc8,f4,Ng4,f5,Rf8,f6+,gxf6,exf6+,Nxf6,Rae1,Ne4,Qb3,Qb6,Qxb6,axb6,a3,Nd2,Rf4,Nc4,Nf5+,Kd7,Nd4,Nxb2,Rh4,Rxa3,Nb5,Rb3,c4,Nxc4,Nd4,Ra3,Rxh7,b5,Nxe6,Ne3,Nxf8+,Kc6,Rxf7,Nc2,Rc1,Kb6,Nd7+,Ka7,h4,Ne3,h5,b4,h6,b3,h7,b2,Rb1,Ra1,h8=Q,Rxb1+,Kh2,Rh1+,Kxh1,b1=Q+,Kh2,Ng4+,Kh3', 'Qh1+,Kxg4,Qxh8', 'https://lichess.org/training/YGq1M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YGqWU', 'Blitz', 'APG_174', 2038, 'ShawnTheNoob', 2025, 'd4,e6,Nf3,Ke7,Bf4,Nf6,e3,d6,c3,g6,Bg5,Bg7,e4,h6,Bh4,g5,Nxg5,hxg5,Bxg5,e5,d5,Bg4,f3,Bh5,Qb3,Qc8,Nd2,Kf8,h4,Nbd7,g4,Bg6,h5,Bh7,h6,Nc5,hxg7+,Kxg7,Qc2,Bg6,Bg2,Rxh1+,Bxh1,Nxd5,O-O-O,a5,Nc4,a4,Rxd5,b5,Ne3,b4,c4,b3,axb3,axb3,Qg2,Ra1+,Kd2,Qa6,Qh3', 'Qa5+,Ke2,Qe1#', 'https://lichess.org/training/YGqWU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yGs9x', 'Rapid', 'Master-Vic', 2056, 'Pygmalion_effect', 2142, 'd4,f5,c4,Nf6,Bg5,e6,Nd2,Be7,e3,O-O,Bd3,b6,Ne2,Bb7,Nf3,Qe8,h4,Ne4,Bf4,d6,Qc2,Nc6,Bxe4,fxe4,Qxe4,Nb4,Qxb7,Nc2+,Kd2,Nxa1,Rxa1,e5,dxe5,dxe5,Bxe5,Rd8+,Ke1,Bb4+,Kf1,Rxf3,Qxf3,Qxe5,Nd4,Qh2,g3,Bd6,Ne6', 'Qh3+,Ke2,Qxe6', 'https://lichess.org/training/yGs9x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yGsRW', 'Rapid', 'alanlaylay', 1752, 'marcoleite', 1736, 'e4,d5,exd5,Nf6,Nc3,Bg4,Nf3,Nxd5,Bc4,Nxc3,bxc3,e6,h3,Bh5,g4,Bg6,Ne5,Be4,f3,Bc6,d4,Bd6,O-O,Bxe5,dxe5,Qh4,Kh2,O-O,Bf4,Nd7,Bg3,Qg5,f4,Qe7,Qe2,Nc5,f5,exf5,Rxf5,Ne4,Qe3,b5,Bb3,a5,a3,a4,Ba2,Qxa3', 'Bxf7+,Rxf7,Rxa3', 'https://lichess.org/training/yGsRW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ygTEH', 'Rapid', 'Watchman4', 1655, 'M_reza_a', 1732, 'd4,c6,e3,d5,c4,e6,cxd5,cxd5,Nc3,Nf6,Nf3,Bd7,Be2,Bb4,Bd2,O-O,a3,Ba5,b4,Bb6,O-O,a5,h3,axb4,axb4,Rxa1,Qxa1,Nc6,Na4,Bc7,Nc5,b6,Nxd7,Qxd7,b5,Ne7,Bb4,Ne4,Qa3,Re8,Rc1,Nf5,Bd3,Rd8,Bxe4,dxe4,Nd2,Bd6,Bxd6,Qxd6,Qxd6,Nxd6,Nc4', 'Rc8,Nxd6,Rxc1+', 'https://lichess.org/training/ygTEH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ygTWY', 'Classical', 'goemannbolsehle', 1754, 'Vincenz-Grimm', 1687, 'd4,b6,e4,Bb7,Bd3,e6,Ne2,c6,O-O,d6,Ng3,Nd7,c4,Be7,Nc3,Ngf6,Bg5,O-O,Rc1,c5,Bxf6,Bxf6,d5,g6,f4,Bd4+,Kh1,e5,f5,Qh4,Qf3,Nf6,Nge2,Ng4,Qg3,Nf2+,Rxf2,Bxf2,Qf3,Bd4,g3,Qh5,g4,Qg5,Rf1,Qe3,Nxd4,cxd4,Qxe3,dxe3,Nd1,a6,Nxe3,b5,b3,bxc4,Bxc4,a5,a4,Ba6,g5,gxf5,Rxf5,Bxc4,Nxc4,Rfd8,Rf6,Ra6,h4,Kg7,h5,Rd7,Kh2,h6,Rxh6,Kf8,Nxe5,Rc7,Nc6,Rb7,Rxd6,Rxb3,Rd8+,Kg7,Rd6,Re3,g6,Rxe4,gxf7,Kxf7', 'Nd8+,Ke7,Rxa6', 'https://lichess.org/training/ygTWY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yguCK', 'Blitz', 'sh4u', 2292, 'pregarino', 2096, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,Nc3,Bd6,Nge2,O-O,Bg5,h6,Bh4,Bg4,f3,Bh5,Qd2,c6,O-O-O,b5,Rde1,b4,Nd1,Qa5,Kb1,Nbd7,g4,Bg6,Bg3,Bxd3,Qxd3,Be7,h4,c5,g5,c4,Qd2,c3,Qd3,cxb2,gxf6,Nxf6,Be5,b3,cxb3,Rac8,Nxb2,Nd7,Rhg1,Nxe5,dxe5,Bc5,Rg4,Qxe1+,Nd1,Ba3,Rg1,Qxh4,Ne3,Qf2,Qd2,Rc5,Nf5,Rfc8,Rxg7+,Kf8,Rh7,Rc1+,Nxc1,Kg8,Rh8+,Kxh8', 'Qxh6+,Kg8,Qg7#', 'https://lichess.org/training/yguCK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ygutH', 'Blitz', 'gdtcheque', 1538, 'MillenniumBug', 1618, 'e4,e6,Nf3,d5,exd5,exd5,Qe2+,Be6,Nd4,Qd7,Nxe6,fxe6,d4,Nc6,Bg5,h6,Bh4,g5,Qh5+,Kd8,Bxg5+,Be7,Bxe7+,Qxe7,Qd1,Qb4+,Nd2,Qxb2,Rb1,Qxd4,Rxb7,Nf6,Bd3,Rf8,Nf3,Qg4,O-O,e5,h3,Qg7,Bb5,Na5,Nxe5,Nxb7,Bc6,Rg8,g4,h5,Bxb7,hxg4,Nxg4,Nxg4,Qxd5+,Ke7,Re1+,Kf8,Qf5+,Nf6+,Kf1,Qg1+,Ke2,Re8+,Kf3,Rxe1', 'Qxf6+,Ke8,Bc6#', 'https://lichess.org/training/ygutH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ygVeT', 'Classical', 'zaybxc', 2011, 'jarjar1981', 2189, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Nxe7,Nxe7,Bxf6,gxf6,c4,f5,cxb5,fxe4,Nc4,d5,Nxe5,O-O,Nc6,Nxc6,bxc6,d4,Bc4,Qg5,Qxd4,Rd8,Qe3,Qa5+,Qc3,Qg5,Qg3,Bg4,O-O,h5,h3,Rd4,b3,Kh7,hxg4,h4,Qe3,Qxg4,Qxd4', 'h3,g3,Qf3,Qxe4+,Qxe4', 'https://lichess.org/training/ygVeT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ygVIC', 'Rapid', 'Alexander_Filippov', 1887, 'Nikitakit11', 1798, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,c5,Ne2,O-O,O-O,cxd4,cxd4,Nc6,Be3,b6,Bd5,Bb7,Rc1,Rc8,Qa4,Qd7,Rc2,e6,Bb3,Rfd8,Rfc1,a6,d5,b5,dxc6', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/ygVIC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YGVtS', 'Classical', 'luismbo', 1731, 'TIH1962', 1824, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,c4,Qd6,b3', 'Qe5+,Ne2,Qxa1', 'https://lichess.org/training/YGVtS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YgvX4', 'Rapid', 'SergAles', 1645, 'nikitozzz', 1646, 'e4,c5,Bc4,a6,a3,e6,Nc3,Nc6,d3,Be7,Nf3,g5,h3,h5,Be3,d6,Qd2,Bd7,Bxg5,b5,Ba2,b4,axb4,cxb4,Bxe7,Qxe7,Na4,a5,Nb6,Rb8,Nxd7,Qxd7,Bc4,Nge7,Qg5,Kd8,Qf6,Kc7,Qxf7,d5,exd5,exd5,Bb3,Rbf8,Qg7,Qe6+,Kd2,Rfg8,Rhe1', 'Qxe1+,Kxe1,Rxg7', 'https://lichess.org/training/YgvX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YGwoX', 'Blitz', 'MyxAH', 1920, 'SeyyedAli1615', 1927, 'c3,e5,d3,Nc6,Nd2,Nf6,h3,Bc5,g4,d6,Bg2,Be6,Nf1,d5,Be3,Bxe3,Nxe3,d4,Nf1,dxc3,bxc3,Bd5,Nf3,e4,dxe4,Nxe4,Qc2,Qf6,Ne3,Nxc3,Rc1,O-O-O,Qxc3,Qf4,Nxd5,Rxd5,Qe3,Qb4+,Kf1,Rhd8,Re1,Ne5,Nxe5', 'Qxe1+,Kxe1,Rd1#', 'https://lichess.org/training/YGwoX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YgXp9', 'Blitz', 'Battle87lord', 1895, 'Iamsk', 1935, 'e4,c6,d4,d5,exd5,cxd5,c4,dxc4,Bxc4,Bf5,Nc3,e6,Nf3,Nf6,O-O,Bd6,Bg5,O-O,Qd2,a6,Rad1,b5,Bb3,Nc6,d5,Na5,dxe6,Bc7,exf7+,Kh8,Bxf6,Qxf6,Nd5,Qxf7,Nxc7,Qxc7,Rc1,Qb6,Bd5,Rad8,Rfd1,Be6,Qg5,h6,Qg6,Rf6,Qe4,Bxd5,Rxd5,Rfd6,Rxd6,Qxd6,h3,Nc4,Nh4,Qd2,Ng6+,Kg8,Re1,Qg5,b3,Nd6,Qe6+,Kh7,Ne7,Nf5,Re5,Rd1+,Kh2', 'Qf4+,g3,Qxf2#', 'https://lichess.org/training/YgXp9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yGXWF', 'Rapid', 'Beyunst', 1748, 'coette', 1814, 'd4,f5,Bf4,Nf6,e3,Nc6,c3,d6,Bd3,Bd7,Nf3,e5,dxe5,dxe5,Nxe5,Nxe5,Bxe5,Be7,Qb3,Bc6,Bb5,Qd5,Qxd5,Nxd5,Bxc6+,bxc6,c4,Nb4,Na3', 'Nd3+,Ke2,Nxe5', 'https://lichess.org/training/yGXWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yH03D', 'Rapid', 'yousifalhariri', 1972, 'Husam__Alhasan', 1834, 'e4,c5,Nf3,d6,h3,Nf6,Nc3,g6,Bc4,Bg7,d3,O-O,O-O,Be6,Bb3,Bxb3,axb3,Nc6,Ne2,Rc8,c3,a6,Ng3,e6,Be3,Nd7,Nh2,Nce5,f4,Nc6,Rf3,f5,Qd2,Rf7,Ra4,Qb6,b4,Qb5,b3,cxb4', 'c4,Qxa4,bxa4', 'https://lichess.org/training/yH03D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yH1XJ', 'Rapid', 'escualo', 1651, 'monah11', 1688, 'e4,c6,d4,d5,e5,Bf5,Be2,e6,h3,Ne7,Bg5,Qb6,b3,Qb4+,Bd2,Qxd4,c3,Qxe5,Nf3,Qd6,O-O,h6,Nd4,Bh7,f4,c5,Bb5+,Nbc6,Nc2,a6,Bxc6+,Qxc6,Ne3,Nf5,Nxf5,Bxf5,Be3,Bd6,a3,O-O,Nd2,Bb8,Nf3,Re8,Ne5,Qd6,b4,b6,Qh5,d4', 'Qxf7+,Kh7,Qxe8', 'https://lichess.org/training/yH1XJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yh2io', 'Rapid', 'Fivestringsofdoom', 1923, 'Jefferies123', 1777, 'e4,c5,Qh5,e6,d3,Nf6,Qh4,Be7,Bg5,O-O,Nf3,Nc6,c3,d6,Be2,Ne8,Bxe7,Nxe7,Nbd2,Nf6,a4,Ng6,Qg5,h6,Qg3,e5,Nh4,Nh5,Bxh5,Nxh4,Nf3,Nxf3+,gxf3,a6,Rg1,Qf6,h4,Be6,Bg4,Rae8,c4,Kh8,h5,Rg8,a5,Ref8,b4,Qe7,Qh3,Qd7,Bxe6,fxe6,Rg6,Rf6,Qg4,Qf7,b5,Rxf3,Rxe6,Rxf2,O-O-O,Rf4,Qg6,Qc7,b6,Qc6,Rg1,Qa4', 'Qxh6+,gxh6,Rxh6#', 'https://lichess.org/training/Yh2io');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yH4td', 'Rapid', 'ChessEFNCT', 1734, 'Nik1954', 1813, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bf4,h6,a3,c5,e3,Nc6,dxc5,Bxc5,cxd5,Nxd5,Nxd5,Qxd5,Be2,O-O,O-O,b6,Qc2,Qf5,Bd3,Qh5,h3,Ne7,Rad1,Ng6,Bc7,Bb7,Be4,Bxe4,Qxe4,Rac8,Rd7,Qf5,Qb7,e5,Rd5,Qe6,Nxe5', 'Rxc7,Qxc7,Qxd5', 'https://lichess.org/training/yH4td');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yh6J6', 'Rapid', 'thue1961', 1617, 'juliocesar22', 1608, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Nf6,Nc3,d6,Ng5,Ne5,Bb3,Bg4,Ne2,Bxe2,Qxe2,d5,O-O,Bd6,exd5,O-O,c4,Re8,Qf2,Qe7,Bc2,Bc5,d4,Bb6,Bxf4,Nxc4,Qh4,Bxd4+,Kh1,h6,Nf3,Bb6,Qg3,Nh5,Qg4,Nxf4,Qxf4,Nd6,Ne5,Qxe5,Qf3,Nc4', 'Qxf7+,Kh8,Qg6', 'https://lichess.org/training/yh6J6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YH7o3', 'Rapid', 'Shevchenko_Petr', 1617, 'STAR69', 1911, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,Nf6,f3,Nxd4,Bxd4,e5,Be3,Be7,Bd3,O-O,Qd2,b5,O-O-O,Be6,Kb1,b4,Nd5,Nxd5,exd5,Bxd5,Bxh7+,Kxh7,Qxd5,a5,h4,g6,g4,Kg7,f4,f6,f5,g5,hxg5,fxg5,Rh5,Rh8,Rdh1,Rxh5,Rxh5,Bf6,Bxg5,Bxg5,Qe6,Qf6,Qd7+,Kg8', 'Qh7+,Kf8,Qh8+,Qxh8,Rxh8+,Kf7,Rxa8', 'https://lichess.org/training/YH7o3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YH7tX', 'Rapid', 'kamencic1', 1631, 'GustafHector', 1618, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qe7,Nxc6,dxc6,Bd3,Nf6,Qe2,Be6,O-O,Bg4,Qe3,Qe5,h3,Be6,Nc3,Bc5,Qg5,Qxg5,Bxg5,Bd4,Bd2,O-O,Rab1,b5,Ne2,Be5,b3,h6,Bf4,Bxf4,Nxf4,g5,Nxe6,fxe6,f4,gxf4,Rxf4,Nh5,Rxf8+,Rxf8,Be2,Nf4,Bf3,Rf6,Rd1,Rf7,e5,Rg7,Kh2,c5,Bc6,b4,Rf1,Rf7,g3,Ng6,Rxf7,Kxf7,g4,Nxe5,Be4,Kf6,Kg3,Kg5,h4+,Kf6,Kf4,Ng6+,Bxg6,Kxg6,Ke5,Kf7,g5,hxg5', 'hxg5,Kg6,Kxe6', 'https://lichess.org/training/YH7tX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhA2E', 'Rapid', 'leolarsen', 1701, 'champinon', 1696, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qe7,d3,Qxe5,g3,Nf6,O-O,Nxe4,dxe4,Bh3,f4,Qe7,Re1,f6', 'Qh5+,Qf7,Qxh3', 'https://lichess.org/training/yhA2E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHasn', 'Blitz', 'BanachSteinhaus', 2088, 'lrendonf75', 2143, 'e4,c5,f4,d6,Nf3,Nc6,Bc4,e6,d3,d5,Bb5,Nf6,exd5,Nxd5,Ne5,Qc7,O-O,Bd7,Bxc6,Bxc6,Nxc6,Qxc6,f5,exf5,Rxf5,Be7,c4,Nf6,Bg5,O-O,Nc3,Rad8,Bxf6,Bxf6,Nd5,Bd4+,Kh1,Qh6,Ne7+,Kh8,Rh5,Qf4,Nd5,Qf2', 'Rxh7+,Kxh7,Qh5+,Kg8,Ne7#', 'https://lichess.org/training/YHasn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yHbTB', 'Rapid', 'Olvl', 2013, 'Pogie8967', 2112, 'g3,d5,Bg2,e5,c4,c6,cxd5,cxd5,Nc3,d4,Nd5,Nf6,Nxf6+,Qxf6,Qb3,Nc6,Nh3,Bd6,d3,O-O,O-O,Rb8,f4,Bxh3,Bxh3,exf4,Bxf4,Qe7,Rae1,Rbd8,Bg2,Bb4,Rc1,Na5,Qa4,b6,a3,Bd6,b4,Bxf4,Rxf4', 'Qe3+,Kh1,Qxc1+', 'https://lichess.org/training/yHbTB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhBXQ', 'Rapid', 'trottelkopf', 1951, 'Coleso1962', 1926, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Bd7,Be3,Nf6,f3,g6,Qd2,Bg7,O-O-O,O-O,Bc4,a6,Bb3,b5,h4,b4,Nce2,a5,Ba4,Nxd4,Bxd7,Nxe2+,Qxe2,Qxd7,h5,Nxh5,g4,Nf6,Bd4,a4,Qh2,h6,Be3,b3,a3,h5,Bg5,bxc2,Rd2,Rac8,Bxf6,Bxf6,gxh5,Bg5,hxg6,Bxd2+,Qxd2,fxg6,Qh6,Qe6', 'Qh7#', 'https://lichess.org/training/yhBXQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YhCDl', 'Rapid', 'EnesAyaz', 1755, 'rJravaan', 1750, 'e4,Nf6,Nc3,e5,Nf3,d5,exd5,Nxd5,Bc4,Nxc3,bxc3,Nc6,O-O,Bd6,d4,exd4,cxd4,O-O,Re1,Qf6,c3,Bg4,Bg5', 'Bxf3,Qxf3,Qxg5', 'https://lichess.org/training/YhCDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhDjk', 'Rapid', 'aneledanisa', 2152, 'CrazyMadMax4', 2294, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Rb8,Bd3,Be7,b3,O-O,Bf5,Ba6,Nc3,Nd5,Bxh7+,Kh8,Qh5,Nf4,Nxf7+,Rxf7,Qxf7,Kxh7,Qf5+,Kg8,g3,Nd5,Qxe5,Bf6,Qe6+,Kf8,Bb2,Bc8,Ba3+,Nb4,Bxb4+,Rxb4,Qe3,Bf5,O-O-O,Qd6,Qxa7,Nb7,Qe3,Re4,Nxe4', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/yhDjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHekY', 'Rapid', 'marek1406', 2019, 'Gerritzky', 1983, 'c4,Nf6,Nc3,e5,g3,Bc5,Bg2,d6,e3,O-O,Nge2,a5,O-O,Bg4,b3,c6,Bb2,Nbd7,d4,exd4,exd4,Bb6,Re1,Re8,Qd2,h6,d5,Nc5,dxc6,bxc6,Bxc6,Nfe4,Nxe4,Nxe4,Bxe4,Rxe4,Nc3,Rd4,Qc2,Qg5,Nd5', 'Rd2,Qxd2,Qxd2', 'https://lichess.org/training/YHekY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHERU', 'Rapid', 'Slon1', 2022, 'shaharmis', 1903, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,h6,Nf3,e4,Ne5,Qd5,f4,exf3,Nxf3,Bc5,Nc3,Qe6,d4,Bb4,Bd2,Nc4,O-O,O-O,Bxc4,Qxc4,b3,Qe6,a3,Ba5,Na4,Bb6,Nxb6,axb6,a4,Qd6,Bc3,Bg4,Qd3,Bxf3,Qxf3,Rfe8,Rae1,Rxe1,Rxe1,Qd5,Kf2,c5,dxc5,Qxc5+,Kg3,Nh5+,Kh3,Nf4+,Kg3,Nh5+,Kh3,Nf4+,Kg4', 'Qg5#', 'https://lichess.org/training/YHERU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhFdD', 'Classical', 'xvegietim', 2173, 'jgo', 2013, 'e4,d6,Nf3,Nf6,d3,c5,g3,Nc6,Bg2,g6,O-O,Bg7,Nbd2,O-O,c3,Rb8,a4,e5,Nc4,d5,exd5,Nxd5,Ne3,Be6,Nxd5,Bxd5,Be3,b6,Re1,Re8,Qd2,Na5,Rad1,Bb3,Ra1,Qd7,Bh6,Bxa4,Bxg7,Kxg7,Nxe5,Rxe5,Rxe5,Nb3,Qe1,Nxa1,Qxa1,Re8,Qe1,Rxe5,Qxe5+,f6,Qd5,Qxd5,Bxd5,Bb5,Bc4,Bc6,f4,b5,Be6,f5,Kf2,Kf6,Bg8,h6,Ke3,g5,d4,cxd4+,Kxd4,gxf4,gxf4,a5,Kc5,Be8,Bd5,Kg6,Bc6,Bxc6,Kxc6,b4,cxb4,axb4,Kb5,Kh5,Kxb4,Kg4,Kc4,Kxf4,b4,Ke4,b5,f4,b6', 'f3,Kc5,f2,b7,f1=Q,b8=Q,Qc1+', 'https://lichess.org/training/yhFdD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHFXF', 'Blitz', 'Torrater', 2412, 'NM Chevrin', 2363, 'e4,c5,c3,g6,d4,cxd4,cxd4,d5,exd5,Nf6,Nc3,Nxd5,Nf3,Bg7,Qb3,Nb6,Be2,O-O,O-O,Nc6,Be3,Na5,Qc2,Bf5,Qd2,Nac4,Bxc4,Nxc4,Qe2,Nxe3,fxe3,Rc8,Rfd1,Qb6,e4,Bg4,Nd5,Qd6,Kh1,e6,Nc3,Bxf3,Qxf3,Bxd4', 'Nb5,Qb6,Nxd4', 'https://lichess.org/training/YHFXF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhitj', 'Rapid', 'Jrchicken', 1680, 'Zeeembrya', 1720, 'e4,e5,Nc3,Bc5,Nf3,d6,Bc4,a5,a4,c6,d3,h6,Qe2,Nf6,h3,O-O,g4,Be6,Bxe6,fxe6,g5,hxg5,Bxg5,Qb6,h4,Qxb2,Rb1,Qxc3+,Qd2,Bxf2+,Kxf2,Qxd2+,Bxd2,Nbd7,h5,b6,h6,g6,h7+,Nxh7,Rbg1,Kg7,Bh6+,Kg8', 'Rxg6+,Kf7,Rg7+,Ke8,Rxh7', 'https://lichess.org/training/yhitj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YhJEf', 'Rapid', 'Jellyhouse', 1786, 'buya', 1778, 'e4,e5,Nf3,d6,c3,Nc6,d4,exd4,cxd4,Nf6,Bg5,Be7,Nc3,Bg4,Be2,O-O,Qb3,Rb8,O-O-O,Na5,Qa4,b6,b4,Bd7,Qc2,Nb7,e5,Ng4,Bxe7,Qxe7,Bd3,g6,exd6,Nxd6,Rhe1,Qd8,h4,a5,bxa5,bxa5,h5,Bf5,hxg6,fxg6,Ne4,Nxe4,Bxe4,Bxe4,Qxe4,Nxf2,Qe6+,Kh8,Rd2,Re8', 'Qxe8+,Qxe8,Rxe8+,Rxe8,Rxf2', 'https://lichess.org/training/YhJEf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhKGR', 'Rapid', 'Sashick72', 1667, 'VERTalert', 1655, 'e4,b6,Bc4,Bb7,f3,e6,e5,d5,Bb5+,Nc6,d4,a6,Ba4,b5,Bb3,Nge7,c3,Nf5,g3,Be7,Bc2,Na5,b3,c5,Bxf5,exf5,Bd2,Nc6,Be3,cxd4,Bxd4,Nxd4,Qxd4,Rc8,h4,Bc5,Qf4,g6,g4,d4,Ne2,d3,Nd4,Bxd4,cxd4,Qa5+,Nd2,Rc2,Rh2,O-O,h5,fxg4,fxg4,Rfc8,hxg6,Rc1+,Rxc1,Rxc1+,Kf2,fxg6,Rh3,Rc7,Rxd3', 'Rf7,Qxf7+,Kxf7', 'https://lichess.org/training/yhKGR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHkKj', 'Rapid', 'naffies', 1723, 'bsnif', 1759, 'c4,e5,Nc3,Bc5,d3,h6,Nf3,Nc6,g3,Nf6,Bg2,d6,Na4,Bb4+,Nd2,Ng4,a3,Bxd2+,Bxd2,O-O,Nc3,Nd4,O-O,Nf6,Be3,Bf5,Bxd4,exd4,Nb5,c6,Nxd4,Bg4,Nf3,Re8,Re1,Qb6,b4,c5,Rb1,a6,a4,cxb4,Qb3,a5,Qb2,Be6,Nd4,Ng4,e3,Bd7,Bh3,Rac8,Qe2,h5,f3', 'Rxe3,Qxe3,Nxe3', 'https://lichess.org/training/YHkKj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yHkRz', 'Rapid', 'Mtume', 1663, 'iambehindlovers', 1697, 'g3,e5,Bg2,d5,b3,c5,Bb2,Nf6,Bxe5,Nc6,Bb2,d4,Nf3,Bg4,d3,Qd7,O-O,O-O-O,Nbd2,Bd6,a3,Bh3,Nc4,Bxg2,Kxg2,Bc7,b4,g5,Nxg5,Qd5+,Nf3,h5,e4,Nxe4,dxe4,Qxe4,bxc5,h4,Qe1', 'h3+,Kg1,Qxf3,Qe4,Qxe4', 'https://lichess.org/training/yHkRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhl5E', 'Rapid', 'VoodooChild420', 1762, 'chemistmoh', 1639, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,d6,Bb5,Bd7,dxe5,Nxe5,Bxd7+,Qxd7,O-O,Rd8,Nc3,Nf6,Nd5,Nxf3+,Qxf3,Nxd5,exd5,O-O,Re1,Rde8,Qg3,Kh8,b3,f5,Bb2,Bf6,Rxe8,Qxe8,Bxf6,Rxf6,f3,Qe3+,Kh1,Qe5,Qf2,a5', 'Re1,Qxd5,Re8+,Qg8,Rxg8+', 'https://lichess.org/training/yhl5E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhldT', 'Rapid', 'heaven245', 1946, 'ricardo_victor1', 1920, 'g4,e5,Bg2,d5,c4,c6,cxd5,cxd5,Qb3,e4,Nc3,Ne7,d3,Nbc6,dxe4,dxe4,Nxe4,Bxg4,Qg3,Be6,Nd6+,Kd7,Bf4,Nd5,Bxd5,Bxd6,Bxe6+,Kxe6,Qb3+,Kf6,Bxd6,Qxd6,Qf3+,Ke7,Qe4+,Qe6,Qxe6+,Kxe6,O-O-O,Rhd8,Nf3,f6,Kb1,Ne5,Nxe5,Kxe5,Rc1,Rd2,Rhg1,Rxe2,Rxg7,Rd8', 'Re7+,Kf4,Rxe2', 'https://lichess.org/training/yhldT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YhlQ8', 'Rapid', 'cchenfong', 1605, 'saeida756', 1633, 'e4,b6,d4,Bb7,Bd3,Nf6,Qe2,Nc6,Nf3,e6,c4,d5,cxd5,Bb4+,Bd2,Bxd2+,Nbxd2,Nb4,O-O,Nxd3,Qxd3,a5,Rfe1,O-O,dxe6,fxe6,Ne5,Qd6,Ndc4,Qb4,a3,Qb5,f3,Rad8,Qc3,c5,dxc5,Qxc5+,Kh1,Nd7,Rac1,Nxe5,Nxe5,Rc8,Nd7,Qxc3,Rxc3,Rxc3,bxc3,Rc8,Nxb6,Rxc3,Rb1,Rxa3,h3,Ba6,Nd7,a4,Ne5,h6,Rb6,Ra1+,Kh2,Be2,Rxe6,a3,Re8+,Kh7,f4,a2,f5', 'Rh1+,Kxh1,a1=Q+', 'https://lichess.org/training/YhlQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHmlf', 'Rapid', 'andras960', 1754, 'fhq', 1732, 'd4,d5,Nf3,Bg4,h3,Bh5,Bf4,Nc6,c3,f6,Nbd2,e5,dxe5,fxe5,Nxe5,Bd6,Nxc6,bxc6,Bxd6,cxd6,Nf3,Nf6,e3,O-O,Be2,Qb6,Qc1,Bg6,O-O,Ne4,Nd4,Rae8,a4,c5,a5,Qb7,Nb5,c4,Nd4,Nc5,Nf3', 'Nb3,Qe1,Nxa1', 'https://lichess.org/training/YHmlf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHnCa', 'Rapid', 'mja1991', 1691, 'Vastas', 1732, 'd4,Nf6,Nc3,e6,Bf4,c5,e3,d5,Nf3,Nc6,Bb5,Qb6,Ne5,Be7,O-O,O-O,Nxc6,bxc6,Be2,Qxb2,Na4,Qb4,c3,Qa3,Qc2,cxd4,exd4,Bd7,Rfe1,c5,Nxc5,Bxc5,dxc5,Qxc5,Bf3,a6,Be5,Ne8,Bd4,Qe7,a4,Nf6,c4,dxc4,Qxc4,Rfc8,Qe2,Bc6,Bb2,Bxf3,Qxf3,Nd5', 'Qxd5,exd5,Rxe7', 'https://lichess.org/training/YHnCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhnfx', 'Rapid', 'dominikbojanovic', 1934, 'Everestmate', 1918, 'd4,d5,Bf4,e6,e3,c5,c3,Nc6,Nf3,Nf6,Bd3,Qb6,Qc2,cxd4,exd4,Bd7,Nbd2,Rc8,O-O,Nb4,Qb1,Nxd3,Qxd3,Bb5,Qc2,Bxf1,Rxf1,Bd6,Ne5,Nh5', 'Qa4+,Rc6,Nxc6,Qxc6,Qxc6+,bxc6,Bxd6', 'https://lichess.org/training/yhnfx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YhnSq', 'Rapid', 'yapinhong', 2057, 'ASzilagyi', 2067, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,h6,Bh4,O-O,Nf3,b6,cxd5,Nxd5,Bg3,Nxc3,bxc3,c5,Bd3,Bb7,O-O,Nd7,Re1,Rc8,Rc1,Bf6,e4,cxd4,cxd4,Rxc1,Qxc1,Qc8,Qd2,Qa8,Bb1,Be7,Qd3,g6,Qe3,Kg7,Ne5,Nxe5,Bxe5+,f6,Bf4,g5,Bg3,Rc8,h4,Bb4,Rd1,Rc3,Qe2,Qc8,hxg5,hxg5,Qh5,Rc1,d5,e5,Bxe5', 'Rxd1+,Qxd1,fxe5', 'https://lichess.org/training/YhnSq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yHnT0', 'Rapid', 'panthera89', 1795, 'Asagit', 1778, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,Qh5,Qf6,d3,h6,e5,Qg6,Qxg6,fxg6,Bf4,g5,Bg3,Bb4+,Nd2,Bxd2+,Kxd2,Ne7,f3,b6,Bf2,c5,b4,Nf5,Bd5,Rb8,g4,Ne7,Be4,Bb7,Bxb7,Rxb7,Rab1,Nc6,bxc5,Nxe5,Ke2,Kd8,Bxd4,Re8,cxb6,axb6,Bxb6+', 'Rxb6,Rxb6,Nc4+,Kf2,Nxb6', 'https://lichess.org/training/yHnT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YhnYv', 'Rapid', 'El2kVictor', 2043, 'kentt', 1804, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,Bf5,Bd3,Bxd3,Qxd3,c6,O-O,e6,Bg5,Bd6,Rfe1,Qc7,Bxf6,gxf6,Ne4,Be7,c4,Nd7,c5,O-O-O,Qa3,Kb8,b4,f5,Nc3,Rhg8,b5,Rg7,Rab1,Rdg8,g3,f4,Ne5,fxg3,hxg3,Bf6,b6,axb6,cxb6,Nxb6,Rxb6,Bxe5,Rxb7+,Kxb7,Rb1+,Kc8,dxe5,Qxe5,Qa8+,Kd7,Rd1+,Ke7,Qa7+,Kf6,Rd3,h5,Re3,Qf5,Ne4+,Kg6,Qe7,h4,Rf3,Qe5,Qxh4,Qh5', 'Rf6+,Kh7,Qxh5#', 'https://lichess.org/training/YhnYv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHq9K', 'Classical', 'Lucia243', 2043, 'FischerTallRov', 1932, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Nfd7,Bxe7,Qxe7,O-O-O,Nc6,Nxc6,bxc6,e5,d5,Bd3,Bb7,h4,Rb8,h5,h6,Qg4,O-O,Rh3,f5,exf6,Nxf6,Qe2,Bc8,Rg3,Qd6,Qe5,Qxe5,fxe5,Nxh5,Rg6,Nf4,Rg4,Nxd3+,Rxd3,Rf5,Rdg3,Rb7,Na4,Rxe5,Nb6,Rc7,Nxc8,Rxc8,Rxg7+,Kh8,Ra7,Rg5,Rh3,h5,Rxa6,Kg7,a4,Kg6,g3,e5,a5,Rg4,Ra7,e4,a6,e3,Re7,d4,a7,Rg5,Kd1,Ra5,Ke2,Ra2,Rb7,Ra8,Rh4,c5,Rb6+,Kg5,Rb5,R8xa7,Rxc5+,Kg6,Rxd4,Rxb2,Rd6+,Kf7,Kxe3,Ra3+,Kf4,Rb4+,Kf5,Rf3+,Ke5,Rb7,Rh6,Re7+,Kd4,Rxg3,Rhxh5,Rd7+,Rcd5,Rg4+,Kc3,Rc7+,Rc5,Rg3+,Kc4,Rg4+,Kb5,Rb7+,Kc6,Rb2,c4,Rc2,Kd5,Kg6,Rh8,Kg7,Rd8', 'Rd2+,Ke5,Rxd8', 'https://lichess.org/training/YHq9K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yhq9w', 'Blitz', 'mohanempire', 1682, 'Mido123we', 1757, 'g3,e5,Bg2,Bc5,Nf3,Qf6,O-O,a6,Nc3,c6,Ne4,Qe7,Nxc5,Qxc5,d4,exd4,Qxd4,Qxd4,Nxd4,Nf6,Bg5,Nd5,Bxd5,cxd5,Nf5,O-O,Rad1,Nc6,Rxd5,Nb4,Rd4,Nc6,Ne7+,Kh8,Nxc6,dxc6,Rfd1,Be6,Rd8,Raxd8,Bxd8,Bxa2,b3,c5,Be7,Re8,Bxc5,h6,Ra1,Rc8,Rxa2,Rxc5,Kf1,g5,c4,Kg7,e4,Kf6,Re2,b5,cxb5,Rxb5,Re3,Ke5,Kg2,a5,f3,Rb4,Rc3,f5,Rc5+,Kd4,Rxf5,Rxb3,Rxa5,Ke3,e5,Rb2+,Kh3,Kxf3,e6', 'g4+,Kh4,Rxh2#', 'https://lichess.org/training/Yhq9w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHQct', 'Blitz', 'Howwhy', 2088, 'Toujan', 2100, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,Qd8,Bd3,Be7,O-O,O-O,a3,h6,Be3,Nd7,Qd2,Nf6,h3,Bd7,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/YHQct');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHsPJ', 'Classical', 'Dinobryon', 1743, 'Denizec', 1865, 'e4,e5,Nf3,d6,Bc4,Bg4,c3,a6,d4,b5,Bb3,exd4,cxd4,c6,Nbd2,h6,Qc2,Be7,h3,Bh5,O-O,Bg6,Re1,d5,Ne5,Qd6,Nxg6,Qxg6,exd5,Qxc2,Bxc2,cxd5,Bb3,Nf6,Nf3,Nc6,Bf4,O-O,Re5,Bd6,Rf5,Bxf4,Rxf4,Rad8,Re1,Ne4,Bxd5,Rxd5,Rexe4,Nb4,a3,Nd3,Rg4', 'f5,Rxg7+,Kxg7', 'https://lichess.org/training/YHsPJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHSQ0', 'Blitz', 'Andrew1989', 2181, 'Ronaldo1974', 2007, 'e4,e6,d4,d5,Nc3,Bb4,e5,Ne7,a3,Bxc3+,bxc3,c5,Qg4,Kf8,h4,h5,Qg3,Nf5,Qf4,Qa5,Bd2,Qa4,Bd3,Nc6,Ne2,c4,Bxf5,exf5,e6,Bxe6,Qd6+,Kg8,Rh3,Rd8,Qf4,Qxc2,Rg3,Qe4,Qg5,Rh7,Rc1,Bc8,Re3,Qg4', 'Qxd8+,Nxd8,Re8#', 'https://lichess.org/training/YHSQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YHsQU', 'Rapid', 'V_Zahorski', 2154, 'Cayones', 2193, 'e4,c5,c4,Nc6,Nc3,g6,d3,Bg7,g3,d6,Bg2,Nf6,h3,O-O,Nge2,Nd4,Nxd4,cxd4,Ne2,Qb6,O-O,e5,f4,Bh6,b3,Nh5,f5,Bxc1,Rxc1,g5,f6,d5,exd5,Nxf6,g4,Bxg4,hxg4,Nxg4,Rf3,f5,Qe1,Ne3,Qg3,Qf6,Rxe3,dxe3,Qxe3,f4,Qf3,Rae8,Nc3,Re7,Ne4,Qg6,Qg4,f3,Bxf3,Rf4,Qg2,Ref7,Bg4,h5,Be6,Kg7,Bxf7,Kxf7,Qxg5', 'Rg4+,Kh1,Rxg5', 'https://lichess.org/training/YHsQU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yht4F', 'Blitz', 'Bongwolke', 2268, 'WFM Chempiblinka', 2294, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,g6,Bc4,Bg7,O-O,Ne7,Bg5,O-O,Qe2,Nbc6,Nd5,exd5,exd5,Qb6,dxc6,Nxc6,Rfd1,Qxb2,Qe3,d5,Bxd5,Bf5,Bh6,Rfe8,Qf4,Ne5,Bxg7,Nxf3+,Qxf3,Qxg7,Bxb7,Rab8,Bc6,Red8,Bd5,h5,h3,Kh7,Bb3,Rdc8,Re1,Qf6,Rad1,Rc3,Qf4,Rbc8,Rd6,Qg7,Re7,Rc1+,Kh2,Rf8,Qxc1,g5,Ra6,g4,Raxa7,h4,Rxf7,g3+,Kg1,gxf2+,Kxf2,Bg6,Qc7,Bxf7,Qxf7,Rxf7+', 'Rxf7,Qxf7+,Bxf7', 'https://lichess.org/training/Yht4F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhU7F', 'Rapid', 'BlunderET', 1903, 'schrambo', 2129, 'e4,g6,d4,Bg7,Nf3,d6,h3,Nc6,Be3,e5,d5,Nce7,Nc3,f5,Bd3,Nf6,exf5,gxf5,Bg5,O-O,Nh4,c6,dxc6,bxc6,O-O,e4,Be2,d5,Bf4,Ng6,Nxg6,hxg6,Na4,Qe7,c3,Bd7,b4,Rad8,Nc5,Bc8,Rc1,Nd7,Na6,g5,Be3,f4,Bc5,Nxc5,Nxc5,f3,Ba6,Bxa6,Nxa6,fxg2,Re1,Qe6,Qg4,Qxg4,hxg4,Rf3,Kxg2,Rdf8,Re2,Bxc3,a4,R8f6,b5,cxb5,axb5,Bd4,Rcc2,Bb6,Nb4,R6f4,Nxd5,Rxg4+,Kf1,Rh3', 'Nf6+,Kg7,Nxg4', 'https://lichess.org/training/yhU7F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yHU8n', 'Blitz', 'NM johnmac', 2235, 'rabeaabdallah', 2190, 'e4,e5,Bc4,Nf6,d3,Bc5,Nc3,d6,f4,Nc6,Nf3,a6,fxe5,dxe5,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,Rf1,O-O,Qe2,Be6,O-O-O,b5,Bb3,a5,a4,bxa4,Bxa4,Nd4,Nxd4,Bxd4,c3,Bc5,d4,exd4,cxd4,Bd6,Qh5,Rb8,h4,c6,Ne3,Qb6,Rf2,Ba3,bxa3,Qb1+,Kd2,Qb2+,Ke1,Qxa3,Bxc6,Rb3,Nf5,Bxf5,Qxf5,Re3+,Kf1,Qc3,Bd5,Qb4,Kg1,Rd3,Rxd3,Qb1+,Kh2,Qxd3,Qf3,Qb5,Qf5,Qb8+,Qf4,Qe8,Qe5,a4,Qxe8,Rxe8,Bxf7+,Kf8,Bxe8+,Kxe8,Ra2,Ke7,Rxa4,Kd6,Ra5,Ke6,Rf5,g6,h5,gxf5,exf5+,Kxf5,g4+,Ke4,Kh3,Kxd4,Kh4,Ke5,g5,hxg5+', 'Kxg5,Ke6,Kg6', 'https://lichess.org/training/yHU8n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhUj9', 'Rapid', 'Icool27', 1651, 'GonenSS8', 1634, 'e4,c5,Bc4,d6,Nf3,Nc6,O-O,Nf6,Re1,g6,c3,Bg7,Qb3,Na5,Bxf7+,Kf8,Qb5,Kxf7,d4,Bd7,Qd3,c4,Qd1,Rf8,e5,dxe5,dxe5,Nh5,e6+,Bxe6,Qxd8,Raxd8,Bd2,b5', 'Ng5+,Kg8,Nxe6', 'https://lichess.org/training/yhUj9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yHUxf', 'Classical', 'dipak18', 1672, 'Castamir', 1668, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,c3,c5,Qb5+,Qd7,Qxd7+,Nxd7,Nf3,cxd4,cxd4,Ne7,O-O,Nf5,Nc3,Be7,Nb5,O-O,a4,a6,Na3,b5,b3,Nb6,Bd2,bxa4,bxa4,Nxa4,Nc2,Nb2,Nb4,Nc4,Nxa6,Nxd2,Nxd2,Nxd4,Nc7,Rxa1,Rxa1,Rc8,Ra8,Rxa8,Nxa8,Bg5,Nf3,Nxf3+,gxf3,Bf4,Nb6,Bxe5,Nd7,Bf4,h3,g6,Kf1,Kg7,Ke2,e5,Kd3,h5,Nb6,d4,Nd5,Bh2,Ke4,f5+,Kd3,Bg1,Ke2,Kh6,f4,d3+,Kxd3,exf4,Ke2,Bh2,Kf3,Kg5,Kg2,Bg3,fxg3,fxg3', 'Kxg3,f4+,Nxf4', 'https://lichess.org/training/yHUxf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YhW3E', 'Rapid', 'OGalo67', 1664, 'mattdeck', 1656, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,a6,a3,b5,Ba2,Nc6,d3,Nf6,Bg5,Be7,Qd2,O-O,h3,Bb7,O-O-O,Nd4,Nxd4,cxd4,Ne2,Rc8,Nxd4,e5,Nf5,h6,Nxh6+,gxh6,Bxh6,Nh7,Bxf8', 'Bg5,Bh6,Bxd2+', 'https://lichess.org/training/YhW3E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhw6l', 'Rapid', 'KostyaPolyanskiy', 1728, 'Hassanelnajjar', 1613, 'e4,c5,Nc3,Nc6,Nf3,d6,Bc4,Bg4,h3,Bh5,g4,Bg6,h4,h6,h5,Bh7,g5,e6,g6,fxg6,hxg6,Bxg6,Bxe6,Qf6', 'Nd5,Qxe6,Nc7+,Kf7,Nxe6', 'https://lichess.org/training/yhw6l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhWrJ', 'Rapid', 'Mulauzi', 2071, 'Ananashunden', 2006, 'd4,Nf6,c4,g6,e3,Bg7,Nf3,O-O,Nc3,d6,Be2,c5,O-O,Nc6,d5,Nb4,a3,Na6,Qc2,e6,e4,exd5,exd5,Bf5,Bd3,Bxd3,Qxd3,Re8,Bg5,h6,Bh4,Qd7,Rfe1,Nc7,Rad1,a6,Qc2,b5,b3,a5,a4,bxc4,bxc4,Na6,Nb5,Nb4,Qc1,Rxe1+,Nxe1,Ne8,Bg3,Bf8,Qf4,Ra6,Nd3,Nc7,Qe4,Nxb5,cxb5,Ra8,Re1,Bg7,h3,Kf8,Nxb4,axb4,Qf4,Rd8,Re6,b3,Re1,Kg8,Rb1,Be5,Qxh6,Bxg3,fxg3,c4,Qf4,Qf5,Qxf5,gxf5,Kf2,Rc8,Ke2', 'c3,Kd1,c2+', 'https://lichess.org/training/yhWrJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yHwva', 'Blitz', 'Galtymore', 1754, 'mengli', 1754, 'd4,d5,Bf4,Bf5,e3,e6,Bd3,Bg6,Bxg6,hxg6,Nf3,Bd6,Bxd6,Qxd6,Nbd2,Nc6,O-O,g5,c4,g4,c5,Qe7,Ne5,Nxe5,dxe5,Qxc5,g3,O-O-O,Qxg4,Nh6,Qxg7,Rdg8,Qf6,Ng4,Qf4,Nxh2,Nf3,Ng4,Kg2,Qc2,Qxf7,Qxf2+,Rxf2', 'Nxe3+,Kg1,Rxg3+,Rg2,Rxg2#', 'https://lichess.org/training/yHwva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YhxiJ', 'Rapid', 'chessall100', 1747, 'vitis83', 1730, 'd4,d5,Nf3,Bg4,Ne5,Nf6,c4,dxc4,Nxc4,Nc6,h3,Bh5,g4,Bg6,Bg2,Qxd4', 'Bxc6+,bxc6,Qxd4', 'https://lichess.org/training/YhxiJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YhxUY', 'Rapid', 'BlunderET', 1994, 'Andrey-Chess', 1924, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,Nf6,Nxf6+,exf6,Nf3,Bg4,Be2,Bd6,Qd3,O-O,h3,Bxf3,Qxf3,Re8,O-O,Nd7,Bd3,Nf8,Qg4,Ng6,c3,c5,Be3,cxd4,Bxd4,Be5,Bxg6,hxg6,Rad1,Bxd4,Rxd4,Qb6,Rb4,Qa6,a3,b6,h4,Qd3,h5,gxh5,Qxh5,Re5,Qh2,Rae8,Rh4', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/YhxUY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhZhU', 'Classical', 'fumier', 1768, 'DoctorZaius69', 1729, 'e4,e6,f4,d5,e5,f6,Nf3,Nh6,d4,c5,c3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Nc3,Nc6,a3,Nf5,Rd1,Bd7,Be2,fxe5,fxe5,a5,O-O,Qb6,Na4,Qa7,Nc5,b6,Nxd7,Qxd7,Bb5,Rac8,g4,Nfe7,Qd3,Rf4,Ng5', 'Rxg4+,Kh1,Rxg5', 'https://lichess.org/training/yhZhU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yhZZR', 'Classical', 'therace', 1773, 'codecyan', 1728, 'd4,Nf6,Bf4,d6,e3,g6,h3,Bg7,c3,b6,Nd2,Bb7,Ngf3,Nbd7,Be2,c5,h4,cxd4,exd4,Nd5,Bg3,O-O,h5,e5,hxg6,fxg6,Ng5,Qxg5,Ne4,Qf5,Nxd6,Qe6,Nxb7,Rab8,Bg4,exd4+,Kf1,Qc6,Bxb8,Rxb8,cxd4,Qxb7,Bf3,Qa6+,Kg1,Nf4,Qd2,Rf8,Bg4,Nb8,g3,Nd3,Rh2,Nc6,Be2,Qb7,Qxd3,Nxd4,Re1,b5,b3,Qb6,Rf1,Qe6,Bd1,Qd5,Re1', 'Nf3+,Qxf3,Rxf3,Bxf3,Qxf3', 'https://lichess.org/training/yhZZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YI2LB', 'Blitz', 'FM Yuriy1980', 2198, 'Epolli27', 2044, 'c4,f5,Nc3,Nf6,g3,g6,Bg2,Bg7,Nf3,d6,d3,O-O,O-O,e5,Rb1,Qe8,Bg5,Nbd7,b4,e4,Ne1,h6,Bxf6,Nxf6,Qc2,exd3,exd3,c6,b5,f4,Nf3,fxg3,hxg3,h5,Rfe1,Qd8,bxc6,bxc6,Nd4,d5,cxd5,cxd5,Qb3,h4,Nxd5,Nxd5,Qxd5+,Qxd5,Bxd5+,Kh8,Bxa8,Bxd4,Kg2', 'Rxf2+,Kh1,hxg3', 'https://lichess.org/training/YI2LB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yI3Uw', 'Rapid', 'Dr-chessbr', 1799, 'parrn', 1808, 'e4,d6,d4,Nf6,Nd2,g6,b3,Bg7,Bb2,O-O,Rb1,c6,Ngf3,Bg4,Be2,b5,e5,dxe5,dxe5,Nd5,h3,Bxf3,Nxf3,Qc7,O-O,Nd7,c4,Nf4,cxb5,Nxe5,Nxe5,Bxe5,Bf3,Rad8,Qc2,c5,Bxe5,Qxe5,Rbd1,Qg5,Qc1,Nxh3+,Kh1,Nf4,Kg1,Qh4,Qxc5,Ne6,Qc3,Ng5,Rxd8,Rxd8,g3,Qd4,Qxd4', 'Nxf3+,Kg2,Nxd4', 'https://lichess.org/training/yI3Uw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yi5BR', 'Rapid', 'OKALE', 1734, 'Ruozversa', 1752, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Nf6,Nxf5,Qa5+,c3,Qxf5,Bd3,Qd5,Nf3,e6,O-O,h6,b3,Be7,Ne5,O-O,Re1,Nbd7,c4,Qxd4', 'Bh7+,Nxh7,Qxd4', 'https://lichess.org/training/Yi5BR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yI6Kr', 'Rapid', 'dillandust1', 1840, 'DVRazor', 2347, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Nbd7,O-O,Nc5,Re1,Be7,a3,O-O,Ba2,e5,Nb3,Ne6,Be3,Bd7,f3,Bc6,Nd2,d5,exd5,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,c4,Qd3,Qe2,Rfd8,b4,Nd4,Bxd4', 'Qxd4+,Kh1,Qxd2', 'https://lichess.org/training/yI6Kr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yI8Vq', 'Rapid', 'Verlo', 1842, 'Anas963', 1825, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,exd6,Qxd6,Nf3,Nc6,Nc3,g6,Bc4,Be6,O-O', 'Nxc3,bxc3,Bxc4', 'https://lichess.org/training/yI8Vq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yi9pU', 'Blitz', 'NikolaiKybanov', 2038, 'pionfou', 1963, 'd4,d5,Bf4,Nf6,Nf3,b6,h3,e6,e3,Bb7,Be2,Bd6,Bg5,O-O,O-O,c5,Nbd2,Nbd7,Re1,Rc8,Nf1,Qc7,c3,h6,Bh4,Ne4,Rc1,f5,N3d2,g5,Nxe4,fxe4,Bg3,Bxg3,Nxg3,Rxf2,Kxf2,Rf8+,Bf3,e5,Nh5,exf3,gxf3,e4,f4,Nf6,Rg1,Kh7,Nxf6+,Rxf6,Qg4,Bc8,Qg3,Qf7,Kg2,gxf4,Qf2,Qh5,Rh1,Rg6+,Kf1,fxe3,Qxe3,Ba6+,Ke1,Rg3,Qf2,Rg2,Qxg2,Qh4+,Qf2,Qg5,Rd1,e3,Qf7+,Kh8,Qf8+,Kh7,Qf7+,Kh8,Qe8+,Kg7,Qd7+,Kg6,Qd6+,Kh7,Qc7+,Kg8,Qe5', 'Qh4+,Qg3+,Qxg3#', 'https://lichess.org/training/Yi9pU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YIaNd', 'Rapid', 'Pendekar_Cawang', 2173, 'Jin_Kura_Kura', 2334, 'd4,Nc6,c4,e5,d5,Nce7,e4,Ng6,Bd3,Nf6,Ne2,Bc5,a3,a6,O-O,d6,h3,O-O,Be3,Ba7,b4,Nh5,Bxa7,Rxa7,c5,Ra8,Nd2,Nhf4,Nxf4,Nxf4,Nf3,f5,exf5,Bxf5,Bxf5,Rxf5,Kh2,Qe7,g4,Rf6,Rc1,Raf8,Ng1,Rh6,Rc3,Qh4,Rg3,Rhf6', 'Nf3,Qxh3+,Rxh3', 'https://lichess.org/training/YIaNd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YIc6P', 'Classical', 'Emma1305', 1877, 'mohammedayad', 1991, 'd4,Nf6,Bf4,g6,c3,Bg7,Nf3,d6,Qc1,h6,Nbd2,Na6,e4,c6,Be2,Bg4,h3,Bxf3,Bxf3,c5,O-O,b6,e5,dxe5,Bxa8,Qxa8,Bxe5,Qd5,Nf3,O-O,Bxf6,exf6,dxc5,Nxc5,Qd1,Qc6,Re1,f5,Qd2,Ne4,Qd3,Qc5,Qe3,Qb5,Qe2,Qc5,Rad1,Re8,Nd4,Rc8,Qb5', 'Bxd4,Qxc5,Bxc5', 'https://lichess.org/training/YIc6P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YiCEp', 'Rapid', 'Kartofelka2004', 1976, 'ArtKi', 2026, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,a3,Bxc3+,Qxc3,cxd4,Qxd4,Nc6,Qd1,O-O,Nf3,b6,Bg5,h6,Bh4,b5,cxb5,Ne7,Bxf6,gxf6,Qd2,Kh7,e3,Rg8,Bd3+,f5,Ne5,Qf8,e4,Qg7,exf5,Qxe5+,Kf1,Nxf5,Re1,Qg7,Rg1,Kh8,Be4,Rb8,a4,a6,Qf4,Bb7,Bxb7,Rxb7,bxa6,Ra7,g4,Rxa6,h4,Nxh4,Rh1,Qg5,Qxf7,Nf3,Qxf3,Rxa4,Qc3+,Kh7', 'Qc2+,Rg6,Qxa4', 'https://lichess.org/training/YiCEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yIEN4', 'Blitz', 'mahadr', 1800, 'CM TastyFrenchFries', 2414, 'e4,e6,d4,d5,exd5,exd5,Nc3,Bd6,Nf3,Ne7,Be2,Nbc6,O-O,Bg4,Bg5,Qd7,h3,Bh5,Re1,O-O-O,Qd3,Rdg8,Bxe7,Nxe7,Ng5,Bg6,Qf3,h6,Nxf7,Rf8,Nxd6+,Qxd6,Qg4+,Bf5,Qxg7,Rhg8,Qe5,Qxe5,dxe5,Bxh3,g3,c6,Rad1,Be6,Rd4,Nf5,Rf4,Kd7,Kh2,Rf7,Bg4,Ke7,Bxf5,Rxf5,Rxf5,Bxf5,Ne2,Bxc2,Nf4,Bf5,f3,Rd8,g4,Bh7,Nh5,d4,Kg2', 'd3,Rd1,d2,Kf2,Bc2,Ke2,Bxd1+', 'https://lichess.org/training/yIEN4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yifcz', 'Blitz', 'nuclii', 1663, 'estepr121', 1520, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,e6,e3,Nf6,Bd3,Bxd3,Qxd3,dxc4,Qxc4,Be7,Bd2,O-O,O-O,Nbd7,Qe2,Rc8,Rad1,Nb6,a3,Qc7,e4,Rfd8,e5,Nfd5,Nxd5,Nxd5,Rc1,Qd7,Bc3,a6,Rfd1,Qe8,Qe4,Rd7,Qg4,Nxc3,bxc3,Rcd8,h4,c5,h5,h6,a4,cxd4,cxd4,Rd5,Nh4,Qxa4,Rc7,Bxh4,Qxh4,Rxe5,Qxd8+,Kh7,Rcc1,Rd5,Qb6,Rxh5,Qxb7,Qe8,Qe4+,f5,Qe5,Qg6,Rc6,Rg5,g3,Qh5,Re1,Qh3,Rxe6,Rh5,Qxg7+,Kxg7,Re7+,Kf6', 'R1e6+,Kg5,Rg7#', 'https://lichess.org/training/Yifcz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yiFdn', 'Rapid', 'li765', 1634, 'Asep_Sa', 1656, 'e4,c5,Nf3,Nc6,Bb5,e5,O-O,d6,c4,a6,Bxc6+,bxc6,d3,Be7,Bd2,Bf6,b4,Ne7,bxc5,dxc5,Be3,Qd6,Bg5,O-O,Bxf6,Qxf6,Nc3,Ng6,Rb1,Nf4,Ne2,Qg6,Nxf4,exf4,Kh1,Rd8,Re1,Rd6,Ne5,Qh6,Qa4,Qh4,Re2,Rh6,Nf3,Qh5,Rb6,Bg4,Rxa6,Rf8,Rxc6,f6,Rxc5,f5,Rxf5,Bxf5,exf5,Qxf5,Re5,Qxd3,h3,Qf1+,Kh2,Rg6,Nh4,f3,Re8', 'Rxg2+,Nxg2,Qxg2#', 'https://lichess.org/training/yiFdn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yIFgF', 'Rapid', 'shdwmmc', 1687, 'TheSituationX', 1765, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Ne7,O-O,h6,Nc3,Nf5,Ne2,Be7,c3,O-O,Ne1,Bg5,Ng3,Bxc1,Rxc1,Nxg3,Qxg3,b5,Nf3,Nd7,b4,a5,Rfe1,a4,Re3,Nb6,Nd2,Nc4,Nxc4,bxc4,Qg4,Kh8,Rg3,Rg8,Qh5,Qd7,Re1,a3,Ree3,Raf8,Rh3,Qa7,Rh4,Qa4,h3,Kh7,Rg3,Qc2', 'Rxg7+,Rxg7,Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/yIFgF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yifYF', 'Rapid', 'FredaFelcher', 1803, 'Sausseure', 1835, 'e4,e5,Nf3,Nc6,d4,exd4,c3,d5,Nxd4,Nxd4,cxd4,dxe4,d5,Nf6,Nc3,Bb4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/yifYF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yigB9', 'Rapid', 'maikkel', 1692, 'davidin', 1806, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Be2,e5,d5,Nbd7,O-O,Nc5,Qc2,a5,b3,Nfd7,Be3,a4,bxa4,Na6,Bg5,Qe8,Nb5,Ndc5,Qc1,Nxe4,Bh6,Bf5,Bxg7,Kxg7,Bd3,c6,dxc6,bxc6', 'Bxe4,Bxe4,Nxd6,Qe7,Nxe4', 'https://lichess.org/training/yigB9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YIgwI', 'Rapid', 'Os1974', 1827, 'Madson1', 1784, 'c4,c5,Nc3,Nc6,g3,e6,Bg2,f5,e3,Nf6,Nge2,Be7,d4,cxd4,exd4,Bb4,O-O,O-O,Qb3,Bxc3,Nxc3,Nxd4,Qd1,e5,Re1,d6,f4,Qb6,Be3,Ng4,Nd5,Qc5,b4,Qxc4,fxe5,Nxe3,Nxe3,Qxb4,Rb1,Qc5,Rc1,Qb6,Nc4,Qc5,Nxd6,Ne2+,Kh1,Nxc1,Qxc1,Qxc1,Rxc1,a5,Rc7,Rd8', 'Bd5+,Kh8,Nf7+', 'https://lichess.org/training/YIgwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YihfW', 'Rapid', 'ChijIC', 1738, 'spasskyandhutch', 1813, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Bc4,Nc6,Nf3,Qc7,Be3,Bb4,Rc1,Nf6,Qd3,O-O,O-O,Bxc3,Rxc3,d5,exd5,exd5,Bxd5,Rd8,Rc5,Be6,Rd1,Nxd5,Rxd5,Rxd5,Qc2,Nb4,Qe2,Rad8,Rc1,Nxa2', 'Rxc7,Rd1+,Ne1', 'https://lichess.org/training/YihfW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YIhwq', 'Rapid', 'revanthnaidu', 1717, 'Yvk1989', 1797, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Nf6,Bc4,Bb4,Qf3,O-O,Bg5,Be7,h4,d6,h5,Bg4,Qg3,Bxh5,Bxf6,Bg6,Bxe7,Qxe7,O-O,Rad8,f4,exf4,Rxf4,d5,exd5,cxd5,Bd3,d4,Bxg6,dxc3,Bd3,cxb2,Rb1,Qc5+,Kh2,Rb8,Rf5,Qa3,Bc4,Qxg3+,Kxg3,g6,Ra5,Rfc8,Bb3,Rc7,Rxb2,h5,Bxf7+,Rxf7,Rxb8+,Kg7,Rab5,Kh6,R8b7,Rf6,Rxa7,Rc6,Rb2,Rc3+,Kf2,Rc5,Rab7,Rf5+,Kg1,Rd5,a4,Rd1+,Kh2,h4,a5,g5,R7b6+,Kh5,R2b4,Rd2,c4,h3,Kxh3,Rd3+,Kh2,g4,R6b5+,Kh4,Rb3', 'g3+,Kg1,Rd1#', 'https://lichess.org/training/YIhwq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YiJCl', 'Classical', 'guillezz', 1772, 'cujpetl2', 1669, 'e4,e5,Bc4,d6,Nc3,c6,Qf3,Qf6,Qg3,Qg6,Qf3,Be6,Bb3,Bxb3,axb3,Be7,d3,Bg5,Nge2,Bxc1,Rxc1,Ne7,O-O,Nd7,d4,Qf6,Qd3,exd4,Nxd4,Nc5,Qe3,Qh6,f4,O-O,g4,Qh4,Qf3,h5,gxh5,Ne6,Nce2,c5,Nxe6,fxe6,Rf2,d5,Rd1,dxe4,Qxe4,Rf7,Qxe6,Qxh5,Rd7,Re8,Rg2,Qf5,Qxf5,Nxf5,Rxf7,Kxf7,Kf2,Rd8,Nc3,Rd2+,Kf1', 'Ne3+,Ke1,Rxg2', 'https://lichess.org/training/YiJCl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YiJmU', 'Blitz', 'Tartosucre', 2237, 'FM Lioni26', 2484, 'd3,Nf6,e4,d5,Nf3,dxe4,dxe4,Qxd1+,Kxd1,Nxe4,Ke1,Nc6,Bd3,Nc5,Bc4,Bf5,c3,e6,Be3,O-O-O,Nbd2,Nd3+,Bxd3,Bxd3,Nb3,b6,Rd1,Be7,Nfd4,Nxd4,Nxd4,Be4,f3,Bb7,Bf4,a6,Bg3,c5,Nc2,Rxd1+,Kxd1,Rd8+,Ke1,Bd5,b3,Bf6,c4,Bc6,Ke2,b5,Ne3,Bd4,Rc1,Kb7,Bf2,e5,Bg3,f6,Bf2,g6,Bh4,g5,Bf2,b4,h4,h6,hxg5,hxg5,Ng4,Bxf2,Nxf2,Rh8,Rd1,Kc7,Ng4,f5,Nxe5', 'Re8,Kd2,Rxe5', 'https://lichess.org/training/YiJmU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yiLF4', 'Blitz', 'deep-forest', 1808, 'ramamon35', 1778, 'd4,b5,Bf4,Bb7,e3,e6,Nf3,a6,Bd3,Nf6,Nbd2,Be7,c3,d6,e4,Nbd7,O-O,O-O,e5,dxe5,Nxe5,h6,h3,Nh7,Qg4,Nxe5,Bxh7+,Kxh7,dxe5,Bg5,Rad1,Bd5,Ne4,Bxf4,Qxf4,Qe7,Ng3,Bxa2,Nh5,Bd5,Qg3,Qg5,Qxg5,hxg5,Ng3,Kg6,f4,gxf4,Rxf4,Kh7,Rdf1,Kg8,Nh5,Bc4,R1f3,Be2', 'Nf6+,gxf6,Rg3+,Kh7,Rh4+,Bh5,Rxh5#', 'https://lichess.org/training/yiLF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yIM9I', 'Classical', 'marcmac', 1658, 'Aristotales46', 1710, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,e3,Bb4,Be2,a6,a4,Na5,O-O,Nxc4,Bxc4,dxc4,Qe2,Nd5,Qxc4,a5,Ne1,Bd6,Nxd5,exd5,Qb5+,Qd7,Qd3,O-O,e4,b6,e5,Bb4,Bd2,Ba6,Qe3,Bxf1,Kxf1,Bxd2,Qxd2,b5,Nc2,b4,Ne3,f6,Kg1,fxe5,dxe5,Rae8,Nxd5,c6', 'Nf6+,Rxf6,Qxd7', 'https://lichess.org/training/yIM9I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yIoDb', 'Rapid', 'SukaPunch', 1823, 'vswas_n', 1761, 'e4,e5,Nf3,Nc6,Bb5,Bd6,c3,Nge7,d4,exd4,cxd4,O-O,O-O,f5,e5,Bb4,a3,Ba5,b4,Bb6,Bb2,Nb8,Bc4+,Kh8,d5,d6,e6,c6,Ng5,cxd5,Bxd5,Nxd5,Nf7+,Rxf7,exf7,Nf6,Re1,Nbd7,Qe2,Ne4,Kf1,Qe7,Qc4,Ndf6,Nd2,Be6,Qe2,Qxf7,Rac1,Bxf2,Red1,b5,Bxf6,Nxd2+,Qxd2,gxf6,Qxf2,Bc4+,Kg1,Rg8,Qxf5,d5,Rd4,Rg5,Qf3,h5,Re1,f5,Re5,Qf6,Re8+,Kh7,Rh4', 'Qa1+,Kf2,Qf1+', 'https://lichess.org/training/yIoDb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YioUh', 'Rapid', 'kroqster', 1852, 'ferrucciolari', 1754, 'e4,c5,f4,a6,Nf3,e6,a3,Nc6,Bc4,d5,exd5,exd5,Ba2,Nf6,O-O,Be7,Re1,O-O,Ne5,Nxe5,fxe5,Ne4,d3,Ng5,Nd2,Re8,Nf3,Ne6,c3,b5,Be3,Bb7,Bf2,Bf8,Bh4,Qc7,Qd2,d4,Ng5,Nxg5,Bxg5,Rxe5,Rxe5,Qxe5,Re1,dxc3,bxc3,Qf5,Rf1,Qg4,Be7,c4,Bxf8,Kxf8,dxc4,bxc4,Rf4,Qg5', 'Rxf7+,Kxf7,Qxg5', 'https://lichess.org/training/YioUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yIoxy', 'Rapid', 'facetti', 2007, 'scorpion-92', 1848, 'd4,e6,c4,d5,Nc3,dxc4,a4,Bb4,e3,Nf6,Bxc4,Ne4,Ne2,Qf6,O-O,Nxc3,bxc3,Ba5,Ba3,Nc6,Qc2,Bd7,Rab1,O-O-O,Qb3,Bb6,Bd3,Na5,Qc2,Bc6,c4,Qg5,Ng3,h5,c5,h4,cxb6,hxg3,bxa7', 'gxh2+,Kh1,Qxg2#', 'https://lichess.org/training/yIoxy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YipIi', 'Rapid', 'Stefcik', 1658, 'Jonespure', 1642, 'c4,c5,g3,e6,Bg2,Nc6,e3,Nf6,Ne2,d5,cxd5,exd5,d4,c4,O-O,Bf5,Nbc3,Bb4,a3,Bxc3,Nxc3,O-O,Qf3,Be4,Nxe4,Nxe4,Qe2,Re8,f3,Nd6,e4,dxe4,fxe4,Nxd4,Qf2,Nxe4,Qxf7+,Kh8,Qxb7,Ne2+,Kh1,Nxc1,Raxc1,Qd4,h3,Nf2+,Kh2,Rab8,Qc6,Rec8,Qf3,Nd3,Rcd1,Qxb2,h4,h6,Qd5,Qe5', 'Rxd3,Qxd5,Rxd5', 'https://lichess.org/training/YipIi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YiPKl', 'Rapid', 'ablul', 1770, 'freudstein', 1821, 'e4,c6,d4,d5,exd5,cxd5,Be3,Nc6,Bd3,e5,dxe5,Nxe5,h3,Be6,Nf3,Bd6,Bd4,Nxd3+,Qxd3,Nf6,O-O,O-O,Ng5,h6', 'Bxf6,hxg5,Bxd8', 'https://lichess.org/training/YiPKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YIPtn', 'Rapid', 'valt_avoy', 1970, 'helmIIII', 2057, 'Nf3,Nc6,d4,d5,c4,Bg4,e3,e5,cxd5,Qxd5,Nc3,Bxf3,gxf3,Bb4,Bd2,Bxc3,bxc3,exd4,cxd4,O-O-O,a4,Nf6,Rg1,Rhe8,Be2,g6,a5,a6,Rb1,Qd6,Qb3,Qxh2,Qxb7+,Kd7,Rc1,Qxg1+,Bf1,Re6,e4,Rb8,Qxa6,Rb2,Be3,Nxd4,Qd3,c5', 'Bxd4,cxd4,Qxd4+', 'https://lichess.org/training/YIPtn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YiPXg', 'Classical', 'antony1914', 1786, 'lauro', 1821, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Be3,Nbd7,Qf3,Ne5,Qe2,Nxc4,Qxc4,Be7,O-O,Bd7,Qb3,b5,Rad1,O-O,f3,Qc7,Rd2,e5,Nde2,Be6,Nd5,Nxd5,exd5,Bf5,f4,Bf6', 'fxe5,Bxe5,Rxf5', 'https://lichess.org/training/YiPXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yipXZ', 'Classical', 'praveendev1313', 1698, 'Freedomartin', 1757, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,Ngf3,Qb6,c3,Nc6,Nb3,cxd4,Nbxd4,Nxd4,Nxd4,Nc5,Bb5+,Bd7,Bxd7+,Kxd7,O-O,Ne4,Kh1,Bc5,Rb1,a5,Be3,Rhc8,Qa4+,Kc7,Nb5+,Kb8,Bxc5,Rxc5,Nd6,Nxd6,exd6,Qxd6,Qe8+,Ka7,Qxf7,Rc7,Qh5,Rf8,Qe2,Rxf4', 'Qe3+,d4,Qxf4,Qxf4,Rxf4', 'https://lichess.org/training/yipXZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yiQ6q', 'Blitz', 'youssef_erriteb', 1593, 'qelo', 1598, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Nc3,Bc5,h3,Nf6,g3,Qb6,Qe2,Ba6,Qf3,Bxf1,Kxf1,O-O,Kg2,Rad8,Be3,Bxe3,Qxe3,Qxb2,e5,Nd5,Nxd5,cxd5,c3,f6,Rhb1,Qc2,Rc1,Qg6,exf6,Rxf6,Qxa7,Rdf8,Rf1,Qe4+,f3,Qe2+,Qf2,Qe5,Qa7,Qxc3,Qxd7,Rxf3,Qxe6+,Kh8,Qxd5,Rxf1,Rxf1,Qb2+,Kg1,Rxf1+,Kxf1,Qc1+,Kg2,Qc2+,Kg1,Qc1+,Kh2,Qc2+,Qg2,Qc4,Qf2,Kg8,Qf3,Qxa2+,Qg2,Qxg2+,Kxg2,Kf7,Kf3,g5,Kg4,Kf6,Kh5,Kf5,g4+,Kf4,h4', 'h6,hxg5,hxg5,Kh6,Kxg4', 'https://lichess.org/training/yiQ6q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yIs0y', 'Rapid', 'feuhausus', 1949, 'Pandeia', 1945, 'c4,f5,Nc3,g6,d4,Nf6,e3,Bg7,g3,d6,Bg2,O-O,Nge2,Nc6,O-O,e5,d5,Ne7,Bd2,f4,exf4,exf4,Nxf4,Nf5,Nce2,Re8,Bc3,g5,Nd3,h6,Nd4,Nxd4,Bxd4,Bg4,f3,Bd7,Nf2,c5,Bc3,b5,b3,b4,Bb2,a5,Qc2,Qc8,Rae1,Rxe1,Rxe1,a4,Qg6', 'Bf5,Qxf6,Bxf6', 'https://lichess.org/training/yIs0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YIsd5', 'Blitz', 'tobal', 1971, 'drunz1997', 2008, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,Be2,Be7,Qd2,Nbd7,O-O-O,Rc8,h3,b5,Bf3,Nb6,Na5,Qc7,Kb1,O-O,g4,b4,Ne2,d5,exd5,Nbxd5,Nb3,Rfd8,Qc1,a5,g5,Ne8,Bxd5,Bxd5,Rhg1,a4,Nd2,f5,f3,f4,Bf2,Qb7,g6,h6,Ne4,b3,c3,bxa2+,Ka1,Bxe4,fxe4,Qxe4,Rge1,Qf3,Rxd8,Rxd8,Kxa2,Qxf2,Qc2,Qxe1,Nxf4,Rd2,Qxa4,Qf2', 'Qxe8+,Bf8,Qf7+,Kh8,Qxf8#', 'https://lichess.org/training/YIsd5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yiSSl', 'Rapid', 'Drersin', 1959, 'kulje', 1955, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nc3,a6,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Nf6,f4,Be7,Qf3,d5,e5,Bc5+,Kh1,Nd7,Rd1,O-O,b3,Re8,Bb2,f5,Nxd5,Nxe5,fxe5,cxd5,Rxd5,Qe7,e6,Qxe6,Qc3,Bf8,Rad1,Re7,h3,Rae8,Qf3,Rf7,Re5,Qc8,Qd5,Bd6,Rxe8+,Qxe8,Bc3,Qe3,Re1,Qxc3', 'Re8+,Bf8,Rxf8+,Kxf8,Qd8#', 'https://lichess.org/training/yiSSl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yiT2a', 'Rapid', 'Kanasan', 1627, 'selechinophile', 1681, 'd4,d5,e4,c6,Nc3,Nf6,e5,Ne4,Nxe4,dxe4,f3,e6,Be3,c5,c3,Nc6,Bb5,Bd7,fxe4,cxd4,cxd4', 'Qa5+,Kf2,Qxb5', 'https://lichess.org/training/yiT2a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yITCt', 'Rapid', 'Zsakarya', 1755, 'SemLion777', 1761, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Nc3,Bb4,Bd2,Qe7,f3,Bxc3,Bxc3,d5,Bxf6,Qxf6,exd5+,Ne7,c3,O-O,Bc4,Bd7,Ne2', 'Qh4+,Qf2,Qxc4', 'https://lichess.org/training/yITCt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yIX39', 'Rapid', 'renana', 1738, 'Knightinwhitesatin', 1645, 'c4,e5,Nc3,Nf6,g3,Bb4,Bg2,O-O,e3,Bxc3,bxc3,c6,Ne2,d6,d4,e4,O-O,Re8,Qc2,Bf5,Ba3,Na6,Rab1,Rb8,Rb3,c5,Rfb1,b6,Nf4,g5,Nd5,Nxd5,cxd5,c4,R3b2,Nc7,Rb4,b5,Qe2,a6,Rc1,Qf6,Rbb1,Qg6,Bb4,h5,Qb2,h4,Qa3,Red8,Ba5,Rd7,Bxc7,Rxc7,Qxa6,hxg3,hxg3,Kg7,Rxb5,Rh8,Kf1,Qh6,Rbb1,Bg4,Qa3,Qh1+,Bxh1', 'Rxh1+,Kg2,Bf3#', 'https://lichess.org/training/yIX39');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yixe1', 'Blitz', 'faresbylka', 2064, 'LUKARAHTRATGNATBC', 2068, 'e4,e5,Nf3,c6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,a3,Bxc3+,bxc3,Nxe4,Qg4,Qe7,Be2,Nxc3,Qxg7,Rf8,Bh6,Nxe2,Nxe2,d5,O-O,Be6,Qxh7,Nd7,Nd4,O-O-O,Bxf8,Rxf8,Rfe1,Nf6,Qd3,Rg8,Rab1,Qd6,Nxe6,fxe6,Qh3,Ne4,Re3,Kb8,Reb3,b6,a4,Qc5,Qxe6', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/yixe1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yiZBU', 'Classical', 'DaR4k3', 1613, 'mrt4747', 1636, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Qf6,Nc3,Nd4,Nxd4,Bxd4,Be3,Bxe3,fxe3,Nh6,Nd5,Qc6,Qf3,d6,h3,Be6,Nf6+,gxf6,Qxf6,Bxc4,Qxh8+,Kd7,Qxa8,Ba6,O-O,Qxc2,Qf8,Bxd3,Rfc1,Qd2,Qxh6,Bxe4,Qg7,Bg6,Rf1,Qxe3+,Kh2,Ke6,Qf6+,Kd7,Rf3,Qd2,b4,Qb2,a3,Qxa1,b5,Qb1,g4,Qxb5,h4,Qb2+,Kg3,h5', 'gxh5,Bxh5,Qf5+,Kc6,Qxh5', 'https://lichess.org/training/yiZBU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yiZoZ', 'Classical', 'billooji', 1715, 'giogmg', 1604, 'd4,d5,a3,Nc6,e3,a6,Nf3,e6,Be2,Nf6,O-O,Bd6,c4,dxc4,Bxc4,O-O,Nc3,b5,Ba2,Bb7,Bb1,Ne7,Ng5,h6,Nge4,Nxe4,Nxe4,Nf5,Qd3,Qh4,Nxd6,cxd6,d5,g6,e4,Ne7,dxe6,fxe6,Qxd6,Rae8,Bf4,Qxf4,Qxe6+,Qf7,Qe5,Nc8,Qg3,Bxe4,Ba2,Bd5,Bxd5,Qxd5,Qxg6+,Kh8,Qxh6+,Kg8,Rad1,Qf7,Rd3', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/yiZoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yizUV', 'Rapid', 'script1913', 1899, 'mrlion', 2021, 'd4,Nf6,e3,g6,Nf3,Bg7,Be2,O-O,O-O,d6,a3,a6,d5,c6,c4,e5,dxe6,Bxe6,Nc3,Qc7,h3,Nbd7,e4,Nc5,Bf4,Rad8,Qc2,Ncd7,Rad1,Ne5,Bxe5,dxe5,Rxd8,Rxd8,b4,b5,cxb5,cxb5,Rc1,Rc8,Qd2', 'Nxe4,Nxe4,Qxc1+', 'https://lichess.org/training/yizUV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yj1Nm', 'Rapid', 'Bulletexperte2', 2201, 'Dennis1989', 2379, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Nf3,g6,cxd5,Nxd5,Bc4,Nxc3,bxc3,Bg7,O-O,O-O,Re1,Bg4,h3,Bxf3,Qxf3,Nxd4,cxd4,Qxd4,Rb1,Qxc4,Rxb7,e5,Ba3,Rfc8,Rc1,Qxa2,Rcc7,Rxc7,Rxc7,Rd8,Rxa7,Qe6,Ra8,Qe8,Ra7,e4,Qb3,Rd3,Qc4,Rd1+,Kh2,Bf6,Qa6,Kg7,Ra8,Rd8,Ra7,Qe5+,g3,Rd2,Qf1,Qf5,Kg1,Bd4,Ra8,Rxf2,Bf8+,Kf6,Ra6+,Kg5,h4+,Kg4,Qd1+,Kh3,Kh1,Rf1+,Qxf1+', 'Qxf1#', 'https://lichess.org/training/yj1Nm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yj1Oi', 'Rapid', 'amirthr', 1986, 'Gibilerisinde', 2034, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nde2,Be6,O-O,Be7,f4,O-O,f5,Bc8,Bg5,b5,Ng3,Bb7,Nh5,Nxh5,Bxe7,Qxe7,Qxh5,Nd7,Nd5,Bxd5,exd5,Nf6,Qh4,Nxd5', 'f6,Qa7+,Kh1,Nxf6,Rxf6', 'https://lichess.org/training/Yj1Oi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJ2BO', 'Rapid', 'mateus999', 1827, 'Christian89', 1978, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,Nbd7,Bg5,b5,Qd2,Bb7,f3,Qc7,O-O-O,Rc8,Nf5,g6,Nh6,Bg7,h4,b4,Nxf7,Kxf7,Nd5,Nxd5,exd5,a5,Qf4+,Nf6,Bd3,Rhf8,h5,Ke8,hxg6,Nxd5,Qg4,Bxb2+,Kxb2,Qc3+,Kb1,Qa3,gxh7', 'Nc3+,Ka1,Qxa2#', 'https://lichess.org/training/YJ2BO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJ2m3', 'Rapid', 'kaptanibarbaros', 1743, 'philodendron68', 2176, 'e4,c5,Bc4,e6,c3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Nc6,O-O,Be7,d4,cxd4,Re1,Nf6,cxd4,O-O,Bg5,Ne4,Bxe7,Nxe7,Nc3,Nxc3,bxc3,Ng6,g3,Rac8,Ne5,Nxe5,Rxe5,Rxc3,Qh5,Rd8,Rae1,Rc7,Re7,Qxe7,Rxe7,Rxe7,Qg5,f6,Qf5,Rd6,Qc8+,Kf7,Kg2,Rdd7,h4,Rc7,Qf5,Red7,Qxh7,Rc4,Qf5,Rd6,Qf4,Re6,h5,Re4,Qf5,Rexd4,Qd7+,Kf8,Qxb7,Ra4,Qc8+,Ke7,Qc5+,Ke6,Qc8+,Ke5,Qe8+,Kd6,Qf8+,Ke6,Qxg7,Rxa2,h6,Rdd2,Qg8+,Kf5,g4+,Kf4,Qb8+,Kg5,Qg8+,Kxh6,Qf8+,Kg6,Qg8+,Kh6,Qf8+,Kg5,Qg7+,Kf4,Qxf6+,Kxg4,Qe6+,Kf4,Qd6+,Ke4,Qe6+,Kd4,Qf6+,Kc4,Qf4+,d4,Qc7+,Kb3,Qb7+,Kc2,Qc6+,Kd1,Kg3,Rxf2', 'Qh1+,Kc2,Kxf2', 'https://lichess.org/training/YJ2m3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJ4vm', 'Classical', 'aaleksandr11', 1852, 'xn47z', 1618, 'e4,e6,Nf3,d5,e5,h6,d4,c5,c3,Qa5,Bd2,cxd4,cxd4,Qb6,Qc2,Nc6,Bc3,Nge7,Bd3,Nb4,Qa4+,Nbc6,O-O,Bd7,Qc2,Rc8,Qd2,Nf5,Bxf5,exf5,Na3,Be7,Nc2,O-O,Ne3,Be6,Qd3,f6,exf6,Rxf6,Rfe1,Bb4,Rab1,Bxc3,bxc3,Qc7,Qb5,Rb8,Nxd5,Bxd5,Qxd5+,Kh8,Ne5,Nxe5,dxe5,Rff8,c4,Rfd8,Qe6,Rf8,Red1,Rbe8,Qd6,Qxc4,Rxb7,Rd8,Rd7,Rxd7', 'Qxf8+,Qg8,Qxg8+,Kxg8,Rxd7', 'https://lichess.org/training/YJ4vm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJ4Zo', 'Rapid', 'kabim', 1786, 'ACZ1910', 1863, 'b4,e5,Bb2,Nc6,b5,Nd4,e3,Nxb5,Bxb5,Nf6,Nf3,Bc5,Nxe5,O-O,O-O,d6,Nf3,Bg4,h3,Bh5,Bc4,Qe7,g4,Bg6,Nh4,Be4,g5,Nd5,Bxd5,Bxd5,Qh5,Qe4,d3', 'Qh1#', 'https://lichess.org/training/YJ4Zo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yJ8iY', 'Classical', 'Alkostar', 2134, 'littlekrish', 2160, 'e4,e5,d4,exd4,c3,d5,Qxd4,dxe4,Qxe4+,Be7,Bg5,Be6,Bxe7,Qxe7,Bb5+,c6,Be2,Nf6,Qe3,Nd5,Qg3,O-O,Nf3,Bf5,Nd4,Bg6,O-O,Nd7,Bf3,N7f6,Nd2,Rfe8,h4,Rad8,Rfe1,Qxe1+,Rxe1,Rxe1+,Kh2,h5,Bxd5', 'Ng4+,Qxg4,hxg4', 'https://lichess.org/training/yJ8iY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yja4P', 'Rapid', 'Den110988', 1604, 'JH07IIP', 1715, 'e4,e5,Qh5,Qf6,Bc4,g6,Qf3,Qxf3,Nxf3,h6,Nxe5,d6,Bxf7+,Ke7,Bxg8,dxe5,Bd5,c6,Bb3,Nd7,O-O,Nc5,d3,g5,Nd2,Kd7,Nf3,Bg7,Be3,Na6,Bc4,Nc7,c3,b5,Bb3,a5,d4,a4,Bc2,exd4,Bxd4,Bxd4,Nxd4,Ne6,Rfd1,Nxd4,Rxd4+,Kc7,Rad1,Be6,b3,axb3,Bxb3,Bxb3,axb3,Ra3,Rd7+,Kb6,e5,Rxb3,e6,Rxc3,e7,Re8,Re1,b4,Rd8', 'Rxe7', 'https://lichess.org/training/Yja4P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJACV', 'Rapid', 'maddin70', 1643, 'Albeitar', 1602, 'd4,b6,Bf4,Bb7,e3,e6,c3,Nf6,Nf3,h6,Nbd2,d6,Bd3,Bxf3,Qxf3,d5,c4,c6,cxd5,cxd5,e4,Bb4,Rd1,Nc6,O-O,Nxd4,Qe3,Bxd2,Rxd2,Nc6,Bb5,Qd7,Rc2,Rc8,Rfc1,Nxe4,Bxc6,Rxc6,Rxc6,O-O,Rc7,Qb5,f3,Nc5,Rxa7,Qxb2,Bd6,Rc8,Bxc5,Rxc5,Ra8+,Kh7,Qd3+,g6,Rxc5,bxc5,Qd1,c4,Ra7', 'Qb6+,Kf1,Qxa7', 'https://lichess.org/training/YJACV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJaLX', 'Rapid', 'Lezionegratis', 1843, 'Experimental_chess', 1687, 'd4,c5,Nf3,Nf6,b3,e6,Bb2,b6,e3,Bb7,Nbd2,cxd4,exd4,Nc6,Bd3,Nd5,O-O,Nf4,Bb5,Bd6,Nc4,Bc7,Bxc6,Bxc6,Nfe5,Bxg2,Re1,Qg5,Qg4,Nh3+', 'Kxg2,Qxg4+,Nxg4', 'https://lichess.org/training/YJaLX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yjbqr', 'Rapid', 'ManyaDD', 1747, 'jingseal1105', 1651, 'e4,c5,Nf3,g6,d4,Bg7,dxc5,Qa5+,Nc3,Qxc5,Be3,Qc7,Qd2,Nf6,Bd3,Nc6,a3,b6,Bc4,Bb7,Bf4,d6,e5,dxe5,Nxe5,Nxe5,Bb5+,Nfd7,O-O-O,O-O,Bxd7,Bxg2,Rhg1,Bf3,Rde1,Qxd7,Bxe5,Qxd2+,Kxd2,Bh6+,Kd3,Rad8+,Kc4,Rc8+,Kb3,Bd2,Ref1,f6,Bd4,e5,Be3,Bxc3,bxc3,Bd5+,Kb2,Rc6,Rd1,Bf3,Rd7,a5,Rg3,Be4,f3,Bf5,Bh6,Rfc8,Rg7+,Kh8,f4,exf4,Rf3,Be4,Rxf4,f5,Rb7,Rxc3,Rf2,Bxc2', 'Bg7+,Kg8,Bxc3', 'https://lichess.org/training/yjbqr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yJcH7', 'Rapid', 'Omarabdelsattar', 1872, 'Moh_2020', 1869, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,Ne5,Ne7,Nxg6,hxg6,Be3,Qb6,Bc4', 'Qb4+,Qd2,Qxc4', 'https://lichess.org/training/yJcH7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yJenW', 'Blitz', 'Fubbyb', 1814, 'nucein', 1852, 'e4,e5,Nf3,Bc5,Bc4,Qf6,O-O,Nc6,h3,d6,d3,Nd4,Bg5,Nxf3+,Qxf3,Qxg5,Qxf7+,Kd8,Qf8+,Kd7,Nc3,Qe7,Qf5+,Kd8,Qh5,Nf6,Qg5,h6,Qg6,Be6,Nd5,Nxd5,Bxd5,Bxd5,exd5,a5,Rfe1,Rf8,Re2,Qf6,Qg3,c6,c3,cxd5,d4,exd4,cxd4,Bxd4,Rd1,Bxb2,Rxd5,Kc7,Rc2+,Kd7,Rxb2,Qxb2', 'Qxd6+,Ke8,Qe6#', 'https://lichess.org/training/yJenW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJF84', 'Rapid', 'AdamMHS', 1847, 'TijuanaJohn', 1791, 'e4,e5,Nc3,a6,Bc4,b5,Bb3,c5,Bd5,Nc6,d3,Rb8,Be3,Nce7,Bxc5', 'Nxd5,Bxf8,Nxc3', 'https://lichess.org/training/YJF84');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YjfEb', 'Blitz', 'IM kalounardo', 2403, 'CiccioChess', 2384, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,d5,exd5,Nxd5,Re1,Bg4,h3,Bh5,g4,Bg6,Nxe5,Nxe5,Rxe5,c6,d4,Bd6,Re1,Qh4,Qf3,Rae8,Bd2,Rxe1+,Bxe1,Nf4,Bf1,Re8,Nd2,h5,Nc4,Be4,Qe3,Bc7,f3', 'Nxh3+,Bxh3,Qxh3', 'https://lichess.org/training/YjfEb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJFEn', 'Blitz', 'ChrisPaul3', 2400, 'FM DamageDoers', 2318, 'e4,b6,d4,Bb7,Bd3,Nf6,f3,e6,Ne2,c5,c3,cxd4,cxd4,Nc6,O-O,Be7,Nbc3,O-O,e5,Ne8,a3,d6,f4,dxe5,dxe5,Nc7,Rf3,Nd4,Rh3,g6,Be3,Nxe2+,Qxe2,Nd5,Be4', 'Nxc3,bxc3,Bxe4', 'https://lichess.org/training/YJFEn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yJhk8', 'Rapid', 'Vitalii-2003', 1820, 'Saak2001', 1846, 'e4,c6,d4,d6,c4,e6,Nc3,Nf6,Nf3,Nbd7,Be3,Be7,Bd3,Qc7,Qc2,e5,O-O-O,exd4,Bxd4,Ne5,Rhe1,Bg4,Bxe5,dxe5,Be2,O-O,h3,Be6,g4,h6,g5,hxg5,Nxg5,Nh7,h4,Nxg5,hxg5,Bxg5+,Kb1,b5,Rg1,Bf4,Bg4,Bxc4,b3,b4,Ne2,Bxe2,Qxe2,Rad8,Rdf1,Qb6,Bf5,g5,Qh5,Kg7,Rxg5+,Kf6,Rg6+,Ke7,Qh7,Qb5', 'Re6+,Kd7,Rxe5+,Kc7,Rxb5', 'https://lichess.org/training/yJhk8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJHnG', 'Rapid', 'ShallowGuy', 1641, 'cesp62', 1991, 'd4,Nf6,Nf3,d5,Bg5,Nbd7,e3,c6,c4,Qb6,Qc2,e6,Nc3,Qa5,a3,Ne4,b4', 'Bxb4,axb4,Qxa1+', 'https://lichess.org/training/YJHnG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YjIc9', 'Rapid', 'aleks0722', 1865, 'razorleaf101', 1824, 'e4,c5,f4,Nc6,Nf3,d6,c3,Bg4,Be2,Nf6,e5,dxe5,fxe5,Bxf3,Bxf3,Nxe5,O-O,e6,d4,cxd4,cxd4,Nxf3+,Rxf3,Bc5', 'Qa4+,Qd7,Qxd7+,Nxd7,dxc5', 'https://lichess.org/training/YjIc9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJjtX', 'Classical', 'anwuman', 1916, 'Bewildered_pumpkin', 2109, 'e4,c6,d4,d5,e5,Bf5,c3,e6,Nf3,c5,Bd3,Bxd3,Qxd3,Nc6,O-O,cxd4,cxd4,Bb4,Nc3,Nge7,a3,Ba5,Ne2,Bb6,Bg5,h6,Be3,O-O,Rac1,Rc8,b4,Qd7,Nc3,a6,Na4,Ba7,Nc5,Bxc5,bxc5,Rb8,Rb1,Na5,Nd2,Qc7,Rfc1,Rfc8,Rb6,Qxb6,cxb6,Rxc1+,Nf1,Rbc8', 'Bxc1,Rxc1,Qd2', 'https://lichess.org/training/YJjtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yJKbU', 'Rapid', 'pakr34', 1672, 'kurtnvd2', 1966, 'e4,e5,Bc4,Nc6,d3,Nd4,Be3,c5,Nc3,Nf6,Nd5,Nxd5,Bxd5,d6,Nf3,Qf6,Bxd4,cxd4,h3,h5,Qd2,Bd7,Qa5,Rd8,Bxb7,Be7,Bd5,O-O,Qxa7,Be6,Qa5,Bxd5,Qxd5,Rb8,b3,g6,a4,Rfc8,Ra2,Ra8,b4,Bd8,b5,Ba5+,Ke2,g5,Rb1,g4,hxg4,hxg4,Nd2', 'Bxd2,Kxd2,Qxf2+', 'https://lichess.org/training/yJKbU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yjkI5', 'Rapid', 'DonaldXVaccarino', 1757, 'Malcolmthebrain', 1750, 'd4,e6,c4,d5,Nf3,a6,Bf4,Bd6,Bg3,Nf6,c5,Be7,Nc3,b6,e3,bxc5,dxc5,Bxc5,a3,Bd7,b4,Be7,Be2,O-O,Na4,Qe8,Nc5,Bd6,Bxd6,cxd6,Nb7,Ne4,Nd2,Nc3,Qc2,Nxe2,Kxe2,Bb5+,Ke1,Qd7,Na5,Nc6,Nxc6,Bxc6,f3,Rfc8,Qb2,e5,Kf2,Qf5,Rac1,e4,f4,g5,g3,h5,Nb3,Qg4,Nd4,Bb5,Qd2,h4,Rc3,h3,Rhc1,Bc4,Qb2,f5,Ne6,Qf3+,Kg1,g4,Ng5,Qe2', 'Qxe2,Bxe2,Rxc8+,Rxc8,Rxc8+', 'https://lichess.org/training/yjkI5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yJMEH', 'Rapid', 'anna20062006', 1814, 'CheeseDragon', 1816, 'd4,d5,c4,c6,e3,Nf6,a3,Bf5,c5,Nbd7,Nc3,e5,Nf3,Bg4,h3,Bh5,Be2,Bxf3,Bxf3,e4,Be2,Be7,b4,b6,Bd2,bxc5,Qb3,Rb8,dxc5,Bxc5,Qd1,Be7,Qc2,O-O,Rc1,c5,Nd1,cxb4,axb4,Bxb4,Bxb4,Rxb4,Qc3,Qb8,g4,h6,h4,Ne5,g5,hxg5,hxg5,Nfg4,Rh4,Rb3,Qc7,f5,gxf6,Nxf6,Qe7,Rf7,Qe6,Rb6', 'Rc8+,Qxc8,Qxc8+', 'https://lichess.org/training/yJMEH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YjMmQ', 'Rapid', 'WildPawnChop', 1685, 'BlueSoup', 1688, 'e4,c5,Nf3,Nc6,c3,e6,d4,d5,Bb5,cxd4,exd5,exd5,Qe2+,Be7,O-O,dxc3,Re1,cxb2,Bxb2,Nf6,Bxc6+,bxc6,Bxf6,gxf6,h3,Be6,a4,Kf8,Qe3,h5,Nd4,Bc5', 'Nxe6+,fxe6,Qxc5+', 'https://lichess.org/training/YjMmQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YjNVB', 'Blitz', 'HoudinicisMedicis', 1782, 'epikouros', 1877, 'd4,d5,c4,c6,Nf3,e6,Nc3,f5,e3,Nf6,Bd3,Bd6,O-O,O-O,Nd2,Ne4,f3,Bxh2+,Kxh2,Qh4+,Kg1,Ng3,Re1,Rf6,f4,Rg6,Nf3', 'Qh1+,Kf2,Ne4+,Bxe4,Qxg2#', 'https://lichess.org/training/YjNVB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yjo5o', 'Rapid', 'rookiejackal', 1913, 'R9825549694', 2015, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bb5+,Nbd7,f3,Bg7,g4,a6,Bc4,b5,Bb3,Nc5,Bd5,Nxd5,Nxd5,Bb7,Bg5,Bxd5,exd5,Qa5+,Kf2,Qb6,Be3,O-O,Nc6,Bxb2,Rb1,Bg7,c4,Rfe8,a4,e6,axb5,exd5,cxd5,axb5,Bd4,Bxd4+,Nxd4,b4,Kg3,Ra3,Re1,Rxe1,Qxe1,Nd3,Qe8+,Kg7,Qe4,Nc5,Qe7,Rd3', 'Ne6+,Nxe6,dxe6,Rxf3+,Kxf3', 'https://lichess.org/training/Yjo5o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yJOFd', 'Rapid', 'IshmaelKissinger', 1714, 'Themistoflix', 1712, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,Bd7,Qe2,Bd6,d4,O-O,O-O,exd4,Bxd7,Qxd7,h3,Rfe8,Qd3,h6,Nf3,Nxd5,Qxd4,Nf6,Bd2,Nc6,Qd3,Rad8,Nc3,Ne5,Nxe5,Bxe5,Qb5,Qxd2,Rad1,Qxc2,Rxd8,Rxd8,Qxe5,Qxb2,Qxc7,Rd3', 'Qc8+,Kh7,Qf5+,g6,Qxd3', 'https://lichess.org/training/yJOFd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yjP3L', 'Blitz', 'tal54', 1889, 'RonjaS', 2072, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,Be2,Be7,O-O,O-O,Nc3,c6,Ne4,Nbd7,c3,h6,h3,Re8,Nxf6+,Nxf6,Be3,Bf8,Qd2,Bf5,Nh4,Bh7,Rad1,Nd5,g3,Nxe3,fxe3,Qg5,Rf3,d5,Rdf1,Bc5,d4,Bd6,Ng2,Bxg3,Rxf7,Be4,Bg4,h5,Bd7,Rf8', 'Rxf8+,Rxf8,Be6+,Kh7,Rxf8', 'https://lichess.org/training/yjP3L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YjPdN', 'Blitz', 'seldary', 1574, 'escurinho14', 1612, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,Nf6,d3,Bg4,Nbd2,a6,a3,Ne5,Ba2,g6,b4,b6,Bb2,Nxf3+,Nxf3,Bxf3,Qxf3,Bg7,c4,O-O,Rfe1,cxb4,axb4,a5,b5,Qc7,Rac1,Qc5,d4,Qc7,e5,dxe5,Rxe5,Nd7,Rxe7,Qc8,Rce1,Nc5,dxc5,Bxb2,cxb6,Rb8,c5,Qxc5,Bxf7+,Kh8,Re8,Qxb6,Rxf8+,Rxf8,Qb3,Bd4,h3,Bxf2+,Kh1,Bxe1', 'Qb2+,Bc3,Qxc3+,Qf6,Qxf6#', 'https://lichess.org/training/YjPdN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJpin', 'Classical', 'sanspseudo', 1635, 'kalya-balya', 1731, 'Nf3,f6,e4,e5,Nc3,d6,Bc4,Bg4,h3,Bh5,Nxe5,Bxd1', 'Bf7+,Ke7,Nd5#', 'https://lichess.org/training/YJpin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yjRJK', 'Rapid', 'the_great_peter', 1671, 'kenybigfoot', 1624, 'e4,e6,Nf3,d6,d4,g6,Nc3,Bg7,Be2,Nc6,O-O,Nge7,a3,Bd7,Bg5,e5,d5,Nb8,h3,c6,Qd2,f6,Bh6,Bxh6,Qxh6,Kf7,Bc4,c5,Ba2,Na6,h4,Ng8,Qe3,Nc7,Nh2,Ne7,h5,gxh5,Qh6,Qg8,Qxh5+,Kf8,Rae1,Be8,Qh3,Ng6,Re3,Nf4,Qh6+,Ke7,Rg3,Bg6,Nd1,Ne2+,Kh1,Nxg3+,fxg3,Rf8,Ng4,f5,Nxe5,dxe5', 'd6+,Kxd6,Bxg8', 'https://lichess.org/training/yjRJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YjRLT', 'Classical', 'HugoPBarros', 1669, 'theMertFN', 1608, 'e4,e5,Nf3,Nf6,Bc4,Bd6,O-O,Nxe4,d4,Nc6,dxe5,Nxe5,Nxe5,Bxe5,Bxf7+,Kxf7,Qd5+,Kf8,Qxe5,Nf6,Bg5,d6,Bxf6,gxf6,Qh5,Qe7,Nc3,Rg8,Rae1,Be6,Nd5,Bxd5,Rxe7', 'Rxg2+,Kh1,Rg5+,f3,Rxh5', 'https://lichess.org/training/YjRLT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJRR5', 'Rapid', 'm_nazemi20', 1998, 'shayanmoeini1385', 2068, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Bg4,h3,Bh5,Be2,c6,d3,Nf6,Be3,Qc7,Qd2,e6,Bf4,Bd6,Bxd6,Qxd6,O-O,Nbd7,Rad1,Qc7,Ne4,O-O,Ng3,Bxf3,Bxf3,Nb6,Qg5,Qe7', 'Nh5,Nxh5,Qxe7', 'https://lichess.org/training/YJRR5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yjrTC', 'Rapid', 'Pope123', 1668, 'el_ezele', 1670, 'e4,e5,Bc4,Nc6,c3,Nf6,Nf3,Nxe4,O-O,Bc5,d4,exd4,Re1,d5,Bd3,Bf5,Nfd2,O-O,f3,Nxd2,Bxf5,dxc3+,Kh1,Qf6,Qc2,Qh4,Re2,Bd6,Bh3,d4,Bxd2,cxd2,Nxd2,Bb4,Ne4,Rfe8,a3,Be7,Rae1,Rad8,Qd3,f5,Nd2,g6,Bxf5,gxf5,Qxf5,Qf6', 'Qxf6,Bxf6,Rxe8+,Rxe8,Rxe8+', 'https://lichess.org/training/yjrTC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJTQ0', 'Classical', 'arets', 1969, 'jonica321', 1711, 'd4,Nf6,c4,d5,Nc3,e6,Nf3,c5,cxd5,Nxd5,Nxd5,exd5,e3,c4,Be2,Bb4+,Bd2,Bxd2+,Nxd2,O-O,O-O,Bf5,e4,dxe4,Nxc4,Nc6,Ne3,Bg6,d5,Ne5,Qb3,b6,Rad1,Qd6,a3,Rac8,Ba6,Rc7,Qb4,Rc5,Rc1,Nd3,Bxd3,exd3,Rxc5,Qxc5,h3,Qxb4,axb4,Rd8,Ra1,Rd7,Kf1,f6,Ke1,Kf7,Kd2,Ke7,Ra3,Rc7,g3,Kd6,h4,Be4,Rb3,f5,Ra3,h6,Rb3,g5,hxg5,hxg5,Ra3', 'f4,gxf4,gxf4,Nd1,Rc2+', 'https://lichess.org/training/YJTQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJucV', 'Rapid', 'Gurkhey', 1974, 'Bano', 2024, 'Nf3,Nf6,d4,g6,Nc3,Bg7,e4,d6,Bd3,O-O,O-O,Nc6,e5,dxe5,dxe5,Nd7,e6,fxe6,Qe2,e5,Ng5,Nd4,Qe4,Nc5,Qh4,h5,Bxg6,Nf5,Qxh5,Nh6,Bf7+,Rxf7,Qg6,Bf5,Qh5,Qd6', 'Nxf7,Nxf7,Qxf5', 'https://lichess.org/training/YJucV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yjw2c', 'Rapid', 'MagneshKalicharan', 1834, 'examionhulk', 1824, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,c4,e6,Nc3,Bc5,Be3,Qb6,Na4,Qb4+,Bd2,Nxd4,Bxb4,Bxb4+,Nc3,e5,Bd3,Nf6,O-O,d6,Qa4+,Nc6,Nd5,Ba5,b4,Bd8,h3,O-O,f4,Nxd5,cxd5,b5,Qb3,Nd4,Qb2,Bb6,Kh1,Bd7,fxe5,dxe5,Rac1,Rac8,Rxc8,Rxc8,Qd2,h6,Rc1,Rxc1+,Qxc1,Kh7,Qf1,f6,Kh2,Kg8,Qc1,Kf7,Qa3,Bc8,Qc3,Bd7,Kg3,f5,exf5,Bxf5,Bxf5', 'Ne2+,Kf3,Nxc3', 'https://lichess.org/training/yjw2c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YjWvE', 'Rapid', 'thebestberke', 2140, 'Civilis', 1796, 'e4,b6,d4,Bb7,Bd3,e6,c4,Nf6,Nc3,Bb4,f3,d5,e5,dxc4,Bxc4,Nd5,Bd2,O-O,Nge2,Bxc3,Nxc3,Nxc3,Bxc3,c5,dxc5', 'Qh4+,g3,Qxc4', 'https://lichess.org/training/YjWvE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YJX8L', 'Rapid', 'jery33', 1724, 'Goeto', 1773, 'e4,c5,b4,cxb4,a3,bxa3,Bxa3,d6,Nf3,Nf6,Nc3,Nc6,h3,Nd7,Bc4,Nde5,Nxe5,Nxe5,Bb3,e6,O-O,Be7,d4,Nc6,Ne2,O-O,c3,d5,e5,Bxa3,Rxa3,a6,Bc2,Qe7,Qd3,g6,Raa1,b5,Rfb1,Bd7,Nc1,f6,exf6,Qxf6,Qe2,Rfe8,Nd3,e5,Bb3,exd4,Bxd5+,Kh8,Qc2,Qg5,cxd4,Bxh3,Qxc6,Rac8,Ne5,Rxc6', 'Nf7+,Kg7,Nxg5', 'https://lichess.org/training/YJX8L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yjxBa', 'Bullet', 'merlin76', 1549, 'atomvain', 1520, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ne5,d6,Nxg4,Bxg4,Qxg4,Nc6,Bc4,Qe7,d3,Ne5,Qxf4,Nxc4,dxc4,Bh6,Qf3,Bxc1,Nc3,Bxb2,Nd5,Qd7,Rb1,c6,Nf6+,Bxf6,O-O,O-O-O,Rb3,Bxh4,Rfb1,b6,a4,Nf6,a5,Rhg8,axb6,axb6,Rxb6,Qa7,e5,dxe5', 'Qxc6+,Qc7,Rb8#', 'https://lichess.org/training/yjxBa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yJy2P', 'Blitz', 'RodrigoPacori_UTP', 1809, 'Hakam1995', 1817, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kf1,Qe7,Nxh8,d5,exd5,Nd4,c3,Bg4,Qa4+,c6,cxd4,Bxd4,dxc6,Kf8,cxb7,Rb8,d3,Ne4,Ke1,Bf2+,Kf1,Bd4,Ke1,Bf2+,Kf1,Bc5,Ke1,Qf6,Rf1', 'Bf2+,Rxf2,Qxf2#', 'https://lichess.org/training/yJy2P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yjY5o', 'Blitz', 'kokorec', 1819, 'thomas023', 1794, 'd4,Nf6,c4,d5,Nc3,c6,Bf4,g6,e3,Bg7,cxd5,cxd5,Qb3,O-O,Bd3,Nc6,Nf3,Nh5,Bg3,Nxg3,hxg3,e6,O-O-O,Bd7,Rh2,a6,Rdh1,h6,g4,b5,g5,h5,g4,hxg4,Ne5,Nxe5,dxe5,Bxe5,Rh7,Qxg5,Qc2,d4,Ne4,Qe7,Kb1,Rac8,Qe2,Bc6,Qxg4,Bxe4,Bxe4,dxe3,Bxg6,Bg7,Rxg7+,Kxg7,Rh7+,Kf6,Qh4+,Kxg6,Qh5+,Kf6,Rh6+,Kg7,Rh7+,Kg8', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/yjY5o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yjYDF', 'Classical', 'English_roG', 1618, 'Sportknights', 1723, 'd4,d5,Nf3,Nf6,e3,e6,Bd3,c5,c3,c4,Bc2,Be7,Nbd2,Bd7,O-O,h6,Re1,O-O,e4,dxe4,Nxe4,b6,Nxf6+,Bxf6,Bxh6,gxh6,Ne5,Bg7,Qg4,Qg5,Qe4,f5,Qxa8,Bxe5,dxe5', 'Bc6,Qxc6,Nxc6', 'https://lichess.org/training/yjYDF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yk0FZ', 'Rapid', 'Okyan13', 1909, 'aladir', 1849, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,d4,Qxd5,c3,Bd6,Nbd2,O-O,Bc4,Re8+,Kf1,Qc6,Ng5,Be6,Nxe6,fxe6,Qb3,Nd5,Nf3,Nd7,Kf2,N7b6', 'Bb5,Qxb5,Qxb5', 'https://lichess.org/training/yk0FZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yk1ks', 'Blitz', 'CM Skillcam', 2539, 'NM geordie', 2422, 'd4,Nf6,Bg5,d5,Nd2,c5,e3,Nc6,c3,Bf5,Ngf3,e6,Bb5,Be7,Ne5,Rc8,Qa4,Qb6,O-O,O-O,Bxc6,bxc6,Bxf6,Bxf6,Nd7,Qxb2,Nxf8,Rxf8,Nf3,Be4,Rac1,Bxf3,gxf3,Qe2,Kg2,cxd4,cxd4,g5,Qc2,Qa6,Qxc6,Qxa2,Ra1,Qe2,Rfe1,Qd3,Rxa7,Qf5,Qd6,h5,e4,dxe4,fxe4,Qg4+,Qg3,Qxg3+,hxg3,Bxd4,Ra5,e5,Rc1,Rb8,Rc2,Kg7,Rd5,Rb6,Rd7,Rf6,f3,g4,fxg4,hxg4,Ra2,Rf3,Rc2,Re3,Rcc7,Re2+,Kf1,Rf2+,Ke1,Rf3,Ke2,Kg6,Rd6+,f6,Rcc6,Kg5,Re6,Rxg3,Rxf6,Re3+,Kd2,Rxe4,Rg6+,Kf4,Rcf6+,Kg3,Rg5', 'Be3+,Kd3,Bxg5', 'https://lichess.org/training/yk1ks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yk2IO', 'Blitz', 'KaiserKraut', 1745, 'Yuriks', 1785, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Nxb4,c3,Nc6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d6,O-O,Bg4,Qb3,Bh5,Rfe1,Nge7,Rad1,Na5,Qa4+,Nac6,d5,Bxf3,Nxf3,a6,dxc6,b5,Bxf7+,Kxf7,Qb3+,Kf8,Ng5,Qe8,e5,d5,Rxd5,Nxd5,Qxd5,Rd8,Qf3+,Kg8,e6,Rd6,Qf7+,Qxf7', 'exf7+,Kf8,Re8#', 'https://lichess.org/training/yk2IO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yK39l', 'Blitz', 'Gme_maangkusuman', 2074, 'AUDIOPHILE58', 2064, 'e4,c5,b4,b6,Nf3,Bb7,bxc5,bxc5,Nc3,d6,Bb2,g6,Bc4,Bg7,Rb1,e6,Ne2,Bxe4,Bxg7,Bxf3,gxf3,Qe7,Bxh8,f6,Nf4,d5,Bb5+,Kf7,Qe2,Nh6,Rg1,Nf5,c3,a6,Bd3,Nh4,Rg4,g5,Rb7,Nd7,Nh5,Rxh8,Ng3,c4,f4,cxd3,Qxd3,Ng2+,Kf1,Nxf4,Qxa6,h5,Rxf4,gxf4,Ne2,f3,Nf4,Rd8,d4,h4,Nh5,e5,dxe5', 'Qxe5,Qxf6+,Qxf6,Nxf6,Kxf6', 'https://lichess.org/training/yK39l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yk4Hy', 'Rapid', 'zetati_abdel', 1717, 'RAO9', 1700, 'e4,e5,Nf3,d6,Bc4,Bg4,d3,Nc6,h3,Bh5,g4,Bg6,Ng5,h6,Nf3,Nf6,Nc3,Nd4,Nxd4,exd4,Nd5,Nxd5,Bxd5,c6,Bb3,Qa5+,Bd2,Qc7,Qf3,Be7,O-O-O,O-O,h4,b5,Qg2,a5,a3,a4,Ba2,c5,Bxh6,gxh6,h5,Bg5+,Kb1,b4,axb4,cxb4,hxg6,Kg7,gxf7,Rab8,f3', 'b3,cxb3,axb3', 'https://lichess.org/training/yk4Hy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YK5oL', 'Blitz', 'das_schach', 2073, 'thebestosfp', 2144, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Be7,Nf3,O-O,Bd3,b6,h4,Bb7,Ng5,c5,e5,h6,Qh5,cxd4,Bh7+,Kh8,Nxf7+,Rxf7,Qxf7,Kxh7,h5,dxc3,Bxh6,Qf8,Qg6+,Kh8,Be3,Bxg2,Qxg2,Na6,Qg6,Qf3,Rg1,Rg8,h6,Bf8,h7,c2,hxg8=Q+,Kxg8,Qxe6+,Kh8,Kd2,Bb4+,Kxc2,Qe2+,Kb3,Qd3+,Kb2,Qe2+,Kc1', 'Ba3+,Kb1,Qb2#', 'https://lichess.org/training/YK5oL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yK5sW', 'Blitz', 'thetruth01', 1742, 'Superhelio', 2200, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d3,h6,Be3,d5,exd5,Nxd5,Bd2,Bb4,Nxd5,Qxd5,Bxb4,Nxb4,a3,Nc6,Be2,O-O,O-O,f5,Qd2,Kh8,Rad1,Bd7,d4,e4,Ne5,Nxe5,dxe5,Qxd2,Rxd2,Bc6,Rfd1,Rae8,f4,exf3,Bxf3,Bxf3,gxf3,Rxe5,Rd7,Rc5,c3,Kg8,Re7,Rf7,Re8+,Rf8,Re7,Rb5,b4,Rb6,Rxc7,Rg6+,Kf2,Kh7,Rdd7,a5,Rxb7,axb4,cxb4,Ra8,Ra7,Rc8,a4,Rc2+,Ke3,Rxh2,b5,Rh4,a5,f4+,Ke4,Rh2,a6,Rf6,Rxg7+,Kh8,Rh7+,Kg8,Rhc7,Re2+,Kd3,Re3+,Kd2,Rd6+,Kc1,Rd8,b6,Rxf3,b7,Rf1+,Kc2,Rf2+,Kc3,Rf3+,Kc4,Rf1,Rc8,Rc1+,Kb5,Rcxc8,bxc8=Q,Rxc8,Rb7,Rf8', 'a7,f3,Rb8,f2,Rxf8+', 'https://lichess.org/training/yK5sW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yk6Of', 'Rapid', 'myoung5', 1876, 'k1i2ller456', 1885, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,Nc6,Bf4,Bd6,Ne5,Bxe5,dxe5,Nd7,cxd5,exd5,Qxd5,O-O,e6,fxe6,Qxe6+,Kh8,Be3,Nc5,Qd5,Qxd5,Nxd5,Na6,f3,Ncb4,Nxb4,Nxb4,O-O-O,Nxa2+,Kb1,Be6,Bf2,Nb4,e4,a5,Be2,a4,Bc5,Bb3,Rd7,a3,Bxf8', 'a2+,Kc1,a1=Q+', 'https://lichess.org/training/yk6Of');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKBlA', 'Rapid', 'Alshare', 1792, 'jorisami', 1733, 'Nf3,Nf6,g3,d5,d4,e6,Bg2,g6,O-O,c5,Nbd2,cxd4,Nxd4,Nc6,c3,e5,Nxc6,bxc6,c4,e4,b3,Bc5,Bb2,e3,fxe3,Bxe3+,Kh1,O-O,Bxf6,Qa5,Nf3,Bb7,cxd5,cxd5,Qd3,Qb6,Ne5,d4,Bxb7,Qxb7+,Nf3,Rfe8,Bxd4,Bxd4,Qxd4,Rad8,Qc4,Rd2,Rae1,Rc8,Qh4,Rcc2,Kg1,Qb6+,Rf2,Rxe2,Rxe2,Rxe2,g4,Rxa2,Ng5,Ra1+,Kg2,Qc6+,Rf3,Qc2+,Rf2,Qc6+,Rf3,Ra2+,Kh3,h5,gxh5,Qd7+,Qg4', 'Rxh2+,Kg3,Rg2+,Kxg2,Qxg4+', 'https://lichess.org/training/YKBlA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKcao', 'Classical', 'Rolan0', 2006, 'Caruana2003Fabiano', 2319, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bc5,Nxe5,Bxf2+,Kxf2,Nxe5,d4,Neg4+,Kg1,c6,Be2,d6,h3,Nh6,Bxh6,gxh6,Qd2,Qe7,Bd3,h5,Re1,Bd7,Nd5,Qd8,Qh6,cxd5,exd5+,Be6,Bb5+,Ke7,Rxe6+,fxe6', 'Qg7#', 'https://lichess.org/training/YKcao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKcN6', 'Blitz', 'France2002', 1622, 'hemantsuryawanshi', 1711, 'e4,d5,exd5,c6,dxc6,Nxc6,Bb5,Bd7,Nf3,Nf6,O-O,h6,Nc3,e5,Re1,Bd6,d4,e4,Bxc6,Bxc6,Nxe4,Bxe4,Nd2,Qe7,Nxe4,Nxe4,Qf3,O-O,Rxe4,Qc7,Bf4,Bxf4,Rxf4,Qxc2,Qxb7,Rac8,Re1,Qd2,Rfe4,Rc1,Qe7,Qxb2,Qxf8+,Kh7,Re8,Qd2,Qe7,Rc2,Re2,Rc1+,Re1,Rc2,Qe4+,g6,Qe7', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/YKcN6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yKEHf', 'Rapid', 'Abo--issa', 1818, 'tarza', 1694, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,c5,Qe2+,Be7,Bg5,O-O,Bxf6,Bxf6,dxc5,Bxc3+,bxc3,Re8,Ne5,f6,Qf3,Rxe5+,Be2,Nc6,O-O,d4,Bc4+,Be6,Bxe6+,Rxe6,cxd4,Nxd4,Qxb7,Nxc2,Rac1,Nd4,Rfd1,Ne2+,Kh1,Qe8,Rd7,Nxc1,Rxg7+,Kf8,h4,Re1+,Kh2,Qe5+,g3,Qe6,Rxh7,Rh1+,Kxh1', 'Qh3+,Kg1,Ne2#', 'https://lichess.org/training/yKEHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykF79', 'Rapid', 'davoud8', 2213, 'BoneHarvesteR', 2135, 'c4,Nf6,Nf3,g6,Nc3,d5,cxd5,Nxd5,Qa4+,Nc6,g3,Bg7,Bg2,Nb6,Qd1,e5,O-O,O-O,d3,h6,a4,a5,Be3,Nd4,Bxd4,exd4,Nb5,c6,Na3,Nd5,Rc1,Re8,h3,Qe7,Re1,Qb4,Qc2,Nb6,Nc4,Nxa4,Ra1,Nb6,Nfd2,Nd5,Ra4,Qe7,Nxa5,Qg5,Ne4,Qe7', 'Nxc6,bxc6,Rxa8', 'https://lichess.org/training/ykF79');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yKfbb', 'Blitz', 'Dolwin', 2196, 'cb2012', 2095, 'c4,e6,Nc3,d5,cxd5,exd5,d4,Nf6,Bg5,Be7,e3,O-O,Bd3,b6,Nge2,c5,O-O,Bb7,b3,Nc6,dxc5,bxc5,Nf4,Ne5,Be2,d4,exd4,cxd4,Nb5,Bc5,a4,a6,Na3,Qe7,Nc2,Rfd8,Ne1,Qd6,Bxf6,Qxf6,Ned3,Qg5,Nxe5,Qxf4,Nd3,Qe4,Bf3,Qe7,Bxb7,Qxb7,Nxc5,Qc6,Nd3,Rac8,Rc1,Qe6,Re1,Rxc1,Nxc1,Qd5,Nd3,h6,b4,Rc8,Re5,Qc4,h3,Qa2,a5,Rc2,g3,Rd2,Qf3,Qb1+,Kg2,Qxd3,Qxd3,Rxd3,Re8+,Kh7,Ra8,Rb3,Rxa6,Rxb4,Rd6,Ra4,a6,g6,Kf3,Kg7,Ke4,f5+,Ke5,Kf7,Rd7+,Ke8,Rd6,Ke7,Rxg6,d3,Rg7+,Kd8,Rg8+,Kd7,Rg7+,Kc6,Rg6+,Kc5,Rd6,Re4+,Kxf5,Kxd6,Kxe4,d2,a7,d1=Q,a8=Q,Qh1+,f3,Qe1+,Kf4', 'Qe5+,Kg4,Qg5#', 'https://lichess.org/training/yKfbb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykFgd', 'Rapid', 'legendibaba1', 1995, 'Bassano95', 1996, 'f4,c6,d4,d5,e3,Nf6,Nf3,h6,Bd3,e6,O-O,Nbd7,Ne5,Be7,f5,exf5,Bxf5,Nxe5,dxe5,Bxf5', 'exf6,Bxf6,Rxf5', 'https://lichess.org/training/ykFgd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKflv', 'Blitz', 'roberto121', 1739, 'forcro', 1734, 'e4,b6,d4,Bb7,d5,Nf6,Nc3,e6,dxe6,fxe6,Bd3,Bb4,Qe2,O-O,Bd2,Nc6,Nf3,Ng4,h3,Nge5,O-O-O,Nxf3,gxf3,Nd4,Qf1,Nxf3,Qg2,Nxd2,Rxd2,Bxc3,bxc3,Qf6,Rg1,Rf7,Kb2,a5,Qg3,d6,e5,dxe5,Re2,a4,a3,Ra5,Rge1,Rc5,Rxe5,Rxe5,Rxe5,Qxf2,Rxe6,Qxg3', 'Re8+,Rf8,Bc4+,Bd5,Bxd5+,Kh8,Rxf8#', 'https://lichess.org/training/YKflv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YkFuQ', 'Rapid', 'Kiima_JD', 1744, 'Ak0005', 1712, 'e4,c5,Nf3,d6,Nc3,Nf6,h3,e6,d4,cxd4,Nxd4,a6,Bd3,Be7,O-O,O-O,f4,b5,f5,e5,Nf3,Bb7,a3,Nbd7,b4,Nb6,Bg5,Nc4,Bxc4,bxc4,Bxf6,Bxf6,Qe2,Rc8,Qe3,Qd7,g4,Bd8,a4,Bc7,a5,Bc6,Rfc1,Bb8,Kg2,Ba7,Qe2,f6,h4,d5,exd5,Bxd5,Rd1,Bxf3+,Qxf3,Qc6,Nd5,Rfe8,g5,e4,Qc3,Rcd8', 'Ne7+,Rxe7,Rxd8+', 'https://lichess.org/training/YkFuQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykGLR', 'Blitz', 'Vlad_Stoica', 1946, 'GallasIII', 1946, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,Nd4,O-O,e6,Bd3,Ne7,e5,d5,Nxd4,cxd4,Nb5,O-O,Nxd4,Qb6,c3,Nc6,Qb3,Nxd4,Qxb6,axb6,cxd4,Bd7,b3,b5,Bb2,b4,a3,bxa3,Bxa3,Rfc8,Bc5,Bh6,h4,Bf8,b4,Kg7,Rfc1,f6,Kf2,f5,Ke2,Kh6,g3,Kg7,Kd1,Kf7,Kc2,b6,Kb3,bxc5,dxc5,Bc6,Rxa8,Rxa8,b5,Be8,Kb4,Ra2,b6,Rxd2,Kc3,Rg2,b7,d4+,Kxd4,Rb2,c6,Rb4+,Ke3,Bxc6,Rxc6,Rxb7,Rc3,Rb2,Rc7+,Be7,Kf3,Rb3,Ke3,Ra3,Rd7,Rc3,Kf3', 'Ke8,Rd4,Bc5,Rc4,Rxd3+', 'https://lichess.org/training/ykGLR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ykgpd', 'Rapid', 'limping_knight', 1832, 'navin', 1862, 'c4,e6,d4,c5,Nf3,cxd4,Nxd4,Bc5,Nf3,Qb6,e3,Nf6,Bd3,O-O,Nc3,d5,Na4,Qc6,Ne5,Qc7,Nxc5,Qxe5,cxd5,Qxd5,Nb3,Qxg2,Rf1,Qxh2,Qc2,e5,Nc5,Bh3,Bd2,Bxf1,Bxf1,Nc6,O-O-O,Qxf2,Nxb7,Na5,Nxa5,Rac8,Nc4,Nd5,Kb1,Nb6,Qe4,Nxc4,Bxc4,Rfd8,Rf1,Qxd2,Bxf7+,Kh8', 'Qxh7+,Kxh7,Rh1+,Qh2,Rxh2#', 'https://lichess.org/training/Ykgpd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKHQP', 'Blitz', 'muconasale', 2206, 'FM Arvinder_Amateur', 2291, 'e4,c5,Nf3,d6,c3,Nf6,Qc2,Qc7,Bc4,Nbd7,O-O,e6,d4,cxd4,cxd4,b5,Bd3,Qxc2,Bxc2,Bb7,Re1,Rc8,Bd3,b4,Bd2,d5,e5,Ne4,Bxe4,dxe4,Ng5,Rc2,b3,Be7,Nxe4,O-O,f3,Rfc8,Bf4,Bxe4,Rxe4,g5,Be3,Nb6,Nd2,Nd5,Nc4,Re2,Kf1,Rxe3,Rxe3,Rxc4,bxc4,Nxe3+,Kf2,Nxc4,Rc1,Nb6,Rc7,Kf8,Rxa7,Nd5,a4,Kg7,a5', 'b3,Rxe7,Nxe7', 'https://lichess.org/training/YKHQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykhRv', 'Rapid', 'Jwgc94', 1754, 'octb', 1798, 'd4,d6,c4,Nf6,Nf3,g6,Bg5,Bg7,Nc3,O-O,e3,b6,a4,Bb7,Be2,Na6,Qb3,e6,O-O,c5,d5,h6,Bh4,g5,Bg3,exd5,cxd5,Nb4,e4,Re8,Bb5,Re7,Rfe1,a6,Bc4,b5,axb5,axb5,Rxa8,Qxa8,Nxb5,Rxe4,Rxe4,Nxe4,h3,Nxg3,fxg3,Bxd5,Nxd6,Bxc4,Qxc4,Qa7,Nd2,Bxb2,h4,Qc7,N2e4,g4,Qxc5', 'Qxc5+,Nxc5,Bd4+,Kf1,Bxc5', 'https://lichess.org/training/ykhRv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykHRx', 'Classical', 'gn0s1s', 1850, 'GeorgBRiemann', 2015, 'd4,g6,Bf4,Bg7,e3,Nf6,h4,d6,Be2,h5,Nf3,Nbd7,c3,c5,Ng5,e5,dxe5,dxe5,Bg3,a6,Qd6,Qe7,Qxe7+,Kxe7,O-O,b5,Nd2,Bb7,Bf3,Ra7,Nge4,Nd5,Rfd1,f5,Ng5,e4,Be2,c4,f3,Nxe3,Rdc1,Nc5,Bf4,Nd5,Bg3,Nd3,Bxd3,exd3,Re1+,Kd7,Re6,Bf6,Rd6+,Kc8,Re1,Bxg5,hxg5,h4,Bf2,Ra8,Ree6,Nf4,Re7,h3,Bb6,h2+,Kh1,Ne2,Nf1,f4,Rh7,Rg8,Rxh2,a5,Rh6,b4,Rhxg6,Re8,Rg7,bxc3,bxc3,Ra6,Re7,Rh8+,Nh2,d2,Rxd2', 'Ng3+,Kg1,Rxb6', 'https://lichess.org/training/ykHRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YkIOd', 'Rapid', 'Gmdarkestpoison', 1903, 'samihayek', 1880, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,Be2,Nf6,O-O,Nc6,c3,Bd6,Re1,O-O,Bg5,h6,Bh4,Bg4,h3,Bh5,Ne5,Bxe2,Qxe2,cxd4,Nxc6,bxc6,cxd4,Re8,Qd2,c5,Nc3,cxd4,Qxd4,Be7,Bxf6,Bxf6,Rxe8+,Qxe8,Qxd5,Rd8,Qf3,Rd2,Ne4,Bxb2,Rb1,Rc2,Nd6,Qd7', 'Qa8+,Kh7,Qe4+,g6,Qxc2', 'https://lichess.org/training/YkIOd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yKj73', 'Blitz', 'fluchess', 2003, 'Ironfla', 1971, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,Ne5,Re8,f4,Nfd7,c3,f6,Qh5,Nf8,Bxh7+,Nxh7', 'Qf7+,Kh8,Ng6#', 'https://lichess.org/training/yKj73');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKJLR', 'Classical', 'momy', 1752, 'CuprumS', 1729, 'e4,c6,c3,d5,d4,dxe4,Qe2,Nf6,Nd2,Bg4,f3,exf3,gxf3,Bh5,Ne4,Nbd7', 'Nd6#', 'https://lichess.org/training/YKJLR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yKJn9', 'Rapid', 'marcbouhana58', 1615, 'matheuscrivelaro', 1801, 'e4,e5,Nc3,Nf6,d3,Bb4,Bd2,d6,Nf3,O-O,Be2,Nc6,a3,Ba5,O-O,b6,h3,Bxc3,Bxc3,Bb7,Nh2,Qd7,f4,exf4,Rxf4,Ne8,Bg4,Qe7,Qf3,Ne5,Qg3,Nf6,Raf1,Nexg4,Nxg4,Nh5,Qf3,Nxf4,Qxf4,Bc8,Qg3,Bxg4,Qxg4,f6,h4,Rf7,h5,h6,Qf5,Re8,Re1,Qe6,Qg6,f5,exf5,Qxg6', 'Rxe8+,Rf8,Rxf8+', 'https://lichess.org/training/yKJn9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKjuD', 'Rapid', 'TheNextGalileo', 2076, 'elmora2003', 1976, 'e4,c5,Nc3,Nc6,Bb5,a6,Bxc6,bxc6,b3,d5,Bb2,d4,Nce2,e5,Ng3,Nf6,N1e2,Be7,O-O,O-O,f4,Bd6,fxe5,Bxe5,Nf4,Re8,Nfh5,Bxg3,hxg3,Nxe4,d3,Nd6,Qd2,Re3,Qf2,Qg5,Bc1,Qxh5,Bxe3,dxe3,Qxe3,Bd7', 'Qe7,Be6,Qxd6', 'https://lichess.org/training/YKjuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykJW0', 'Rapid', 'elev8', 1852, 'rizekent', 1851, 'd4,d5,Nf3,Bf5,e3,e6,c4,Nf6,Qb3,b6,cxd5,Nxd5,Ne5,Bxb1,Rxb1,Bb4+,Bd2,Bxd2+,Kxd2,O-O,Bb5,Ne7,Rbc1,c5,Rhd1,cxd4,Ke1,Qd6,f4,Qd5,Qxd5,exd5,Rxd4,f6,Nd7,Nxd7,Bxd7,Rad8,Be6+,Kh8,Rcd1,Rd6,Bxd5,Nxd5,Rxd5,Rxd5,Rxd5,a5,a4,h6,Ke2,Re8,Kf3,Kh7,e4,Rc8,Rb5,Rc6,g4,g6,h4,Kg7,g5,h5,Ke3,Kf7,Kd4,fxg5,fxg5,Ke6,Re5+,Kf7,Kd5,Rc2,b3,Rc3,Kd6,Rxb3,Kc6,Rb4,Kb7,Rxa4,Kxb6,Ra1,Rd5,Rh1,Kxa5,Rxh4,e5,Rg4,Kb6,Rxg5', 'e6+,Kxe6,Rxg5', 'https://lichess.org/training/ykJW0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykMc8', 'Blitz', 'IiroRantal', 2185, 'Kristallklart', 2140, 'e4,d6,d4,Nf6,Nc3,g6,Be2,Bg7,h4,h5,Nh3,Bxh3,Rxh3,c6,Bg5,Nbd7,Re3,e5,Rd3,Qa5,dxe5,Nxe5,Rxd6,Nxe4,Kf1,Nxd6', 'Qxd6,f6,Bxf6,Bxf6,Qxf6', 'https://lichess.org/training/ykMc8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKMTP', 'Classical', 'VKHK', 1647, 'efe452008', 1645, 'b3,e5,Bb2,Nc6,g3,d5,Bg2,Nf6,Nf3,e4,Nd4,Nxd4,Bxd4,Bf5,f3,Bb4,fxe4,dxe4,c3,O-O,O-O,Bd6,Rxf5,Be7,Bxf6,Bxf6,Bxe4,c6,e3,Re8,Qf3,Qe7,Bc2,Rad8,Qg4,Qe6,Qh3,g6,Qg4,h5,Qh3,gxf5,Bxf5,Qd6,Qxh5,Re5,d4,Rxe3,Qh7+,Kf8,Qh6+,Ke7,Qxe3+,Kf8,Nd2,Re8,Qh6+,Ke7,Re1+,Kd8,Rxe8+,Kxe8,Ne4', 'Bxd4+,cxd4,Qxh6', 'https://lichess.org/training/YKMTP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yknAb', 'Blitz', 'ianmalepao', 1523, 'Xantipo2', 1649, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Be3,Qe7,f3,Nxd4,Bxd4,Bxd4,Qxd4,d6,Nd5,Nxd5,Qxd5,c6,Qd3,Be6,O-O-O,O-O-O,b3,d5,Qc3,dxe4,Rxd8+,Rxd8,fxe4,f6,Bd3,Qa3+,Kb1,Kb8,e5,Qe7,exf6,gxf6,Re1,Qf7,Bxh7,Bd5,Qg3+,Ka8,Bg6,Qg7,Re7,Qxe7,c4,Be4+,Kb2,Bxg6,Qxg6,Rd2+,Kc3,Qe3+,Kb4,a5+,Kxa5,Rxa2+,Kb4,Qd2+,Kc5,Ra5+,Kb6,Qb4+,Kc7,Ka7,Qe8,Qc5', 'Qb8+,Ka6,Qxb7#', 'https://lichess.org/training/yknAb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yKnbH', 'Classical', 'DanakIkanTongkol', 1952, 'mir40BG', 1930, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Nc3,Bd7,O-O,Bxc3,bxc3,h6,Re1,Nge7,e5,dxe5,Bxc6,Bxc6,Nxe5,Qd5,Qg4,O-O,Bxh6,Ng6,Nxg6,fxg6,Bd2,Qf7,h3', 'Qxf2+,Kh2,Qxd2', 'https://lichess.org/training/yKnbH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKOf9', 'Rapid', 'teymourjavid', 1719, 'GANESH_KANSWAL', 1698, 'd4,d5,b4,Bf5,c3,e6,e3,Bd6,Bd3,Qf6,Bxf5,Qxf5,Nf3,Nf6,Nbd2,O-O,O-O,Ne4,Nxe4,dxe4,Ne5,f6,Nc4,b5,Nxd6,cxd6,h3,e5,Qg4,Qxg4,hxg4,f5,gxf5,Rxf5,dxe5,Rxe5,Bb2,Rf5,Rad1,d5,f3,Re5,c4,Re8,Rxd5,bxc4,Bc3,exf3,Rxf3,Nc6,Rc5,Rac8,Rxc4', 'Ne5,Bxe5,Rxc4', 'https://lichess.org/training/YKOf9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YkOZ2', 'Blitz', 'ERHAN65', 1635, 'TicTacCheck', 1719, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,h3,Bxf3,Qxf3,e6,Bb5+,Nc6,O-O,Nf6,Bg5,Be7,Re1,Qb6,Nc3,Qxd4,Rad1,Qc5,Bxc6+,Qxc6,Bxf6,Bxf6,Nxd5,Bxb2,Rb1,Bd4,Rb3,O-O,Nf4,Qxc2,Rxb7,e5,Nd5,Qxa2,Rc1,a5,Rcc7,a4,Rxf7,Rxf7', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/YkOZ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykP3P', 'Rapid', 'Robinhoet', 1904, 'kingspawn69', 1912, 'd4,Nf6,c4,e6,Nc3,d5,c5,c6,Bg5,Nbd7,e3,Qc7,Nf3,Be7,Bd3,e5,dxe5,Nxe5,Nxe5,Qxe5,Bf4,Qe6,b4,O-O,O-O,h6,Qc2,Nh5,Bg3,Bf6,Rad1,Nxg3,hxg3,Re8,Rfe1,Qg4,e4,Bxc3,Qxc3,dxe4,Bc4,Be6,Bxe6,Qxe6,Re2,Rad8,Rde1,f5,f3,Qd5,g4,g6,gxf5,gxf5,fxe4,fxe4,Qg3+,Kh7,Qf4,Qd4+,Kh1,Rd5', 'Qf7+,Qg7,Qxe8', 'https://lichess.org/training/ykP3P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykppA', 'Rapid', 'el_matador_62', 1675, 'BGG21', 1675, 'd4,Nf6,Bf4,e6,e3,b6,Qf3,d5,Nc3,Bb7,Bd3,Nbd7,Nge2,h6,h3,Bd6,g4,Qe7,Nb5,O-O,Nxd6,cxd6,h4,e5,g5,e4,gxf6,Nxf6,Qg2,exd3,cxd3,Ba6,O-O-O,Rac8+,Kb1,Ne4,Bxh6,Qf6,Bg5,Qxf2,Qg4,f5,Qh5,Nf6,Bxf6,Rxf6,Nf4,Qxe3,Nxd5,Rh6,Qxf5,Qe6,Ne7+,Qxe7,Rhe1,Qf6,Qd7,Rf8,Qxa7,Bc8,Qxb6,d5,Qc7,Qxd4,Rg1,Bf5,Ka1,Rxh4,Rdf1,Rg4,Rh1,Rg2,Qb7,Bxd3', 'Rxf8+,Kxf8,Rh8#', 'https://lichess.org/training/ykppA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykPUC', 'Blitz', 'daniel2021xd', 1834, 'JosueEduardoPP', 1781, 'h3,d5,Nf3,e6,e3,Bc5,Bb5+,Nc6,d3,Qf6,g3,Bb4+,c3,Ba5,Nbd2,a6,d4,axb5,Nh4,b4,cxb4,Bxb4,a3,Bxd2+,Bxd2,e5,dxe5,Qxe5,Bc3,Qe6,b4,d4,Bd2,d3,Qb1,Ne5,f4,Nc6,Qxd3,b6,Bc3,Ba6,b5,Rd8,Qe2,Rd5,bxa6,Nf6,Qb2,Qxe3+,Qe2,Qxe2+,Kxe2,O-O,Rhd1,Rdd8,Be5,h6,Bxc7,Rde8+,Kd2,Nd5,Be5,Rd8,Rdc1,Nf6+,Kc2,Rd7,Kb3,Rfd8,Rxc6,Rd3+,Kc2,Rxg3,a7,Ne4,Rxb6', 'Rd2+,Kb1,Rg1#', 'https://lichess.org/training/ykPUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YkQGt', 'Blitz', 'worsethanrandommoves', 1767, 'capecodfutbol', 1742, 'd4,e6,c4,d5,Nc3,Nf6,Bf4,Be7,e3,O-O,Nf3,c6,Be2,Na6,O-O,dxc4,Bxc4,b5,Be2,Nb4,a3,Nbd5,Nxd5,Nxd5,Bg3,Bb7,b4,Nc3,Qd3,Nxe2+,Qxe2,a5,Ne5,Qd5,Rab1,axb4,axb4,Ra2,Qf3,f6,Qxd5,cxd5,Nd7,Rfa8,Nc5,Bc8,h4,Kf7,e4,Bxc5,dxc5,dxe4,c6,e5,Rfe1,Rc2,Rbc1,Raa2,Red1,Ke6,c7,Rxc1,Rxc1,Kd7,Rc5,Ba6,Kh2,Rb2,f3,Rxb4,fxe4,Rxe4,Bf2,Rc4,Rd5+,Kxc7,Be1,b4,Ra5,Bb7,Rb5,e4,Bxb4,Ba6,Ra5,Rxb4,Rxa6,Rb5,Ra3,Re5,Re3,f5,Kg3,Kd6,Kf4,Ke6,g4,g6,gxf5+,gxf5,h5,h6,Rg3,Kf6', 'Rg6+,Ke7,Kxe5', 'https://lichess.org/training/YkQGt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yKS7m', 'Classical', 'AinseilGato', 1924, 'Muschemer', 1823, 'e4,Nf6,d3,d5,Nc3,dxe4,dxe4,Qxd1+,Kxd1,Nc6,Bg5,h6,Bxf6,exf6,Kd2,Be6,Rd1,O-O-O+,Kc1,Bb4,Nge2,Bc4,Nd5,Bxd5,exd5,Ne5,f4,Ng4,Rd4,Bc5,Rc4,Bb6,h3,Ne3,Re4,Nxd5,c4,Ne3,Nc3,Nxf1,Rxf1,c6,Re7,Rd7,Rfe1,Bc5,Re8+,Rxe8,Rxe8+,Rd8,Re4,Rd7,Ne2,g6,a3,Kc7,b4,Bf2,Kc2,f5,Re8,Bh4,Rh8,h5,Ra8,a6,Re8,Re7,Rxe7+,Bxe7,Nd4,Kd6,Nf3,Bf6,Kd3,c5,b5,a5,a4,b6,Nh2,Bh4,Nf1,Bf2,Nd2,f6,g4,fxg4,hxg4,hxg4', 'Ne4+,Ke6,Nxf2,g3,Nh3,Kf5,Ke3,Kg4,Ng1', 'https://lichess.org/training/yKS7m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yKsoX', 'Rapid', 'LeLutinMasque2', 1791, 'ShokhrukhTuraev', 1833, 'e4,e5,Nf3,d6,Nc3,Be7,d4,exd4,Nxd4,Nf6,Be3,c5,Bb5+,Bd7,Bxd7+,Nbxd7,Ndb5,a6', 'Nxd6+,Bxd6,Qxd6', 'https://lichess.org/training/yKsoX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKtIY', 'Classical', 'Aldino01', 1835, 'Wasif_Suliman38', 1767, 'b3,Nf6,d4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Bb2,c5,d5,Nbd7,Bd3,Ne5,Nxe5,dxe5,Qe2,Bg4,f3,Bd7,O-O-O,a6,a4,b5,axb5,axb5,Nxb5,Bxb5,Bxb5,Nd7,d6,Nb6,dxe7,Qxe7,Rd3,Rfd8,Rhd1,Bh6+,Kb1,Rxd3,Rxd3,Rd8,Rxd8+,Qxd8,Bxe5,Qe7,Bc3,Qh4,h3,Bf8,Bc4,Qg3,Kb2,Nxc4+,bxc4,Qb8+,Kc1,Qf4+,Bd2,Qe5,Kd1', 'Qa1+,Bc1,Bh6', 'https://lichess.org/training/YKtIY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YkTUy', 'Rapid', 'robbie_one', 1759, 'Alexsandero', 1809, 'c4,e5,Nc3,Bb4,Qc2,Nf6,Nf3,d6,g3,Bg4,Bg2,Qe7,O-O,Nc6,a3,Bxc3,bxc3,e4,Nd4,Nxd4,cxd4,Bxe2,Re1,Bd3,Qa4+,c6,d5,O-O,dxc6,b6,Bb2,Rfe8,f3,d5,cxd5,Qc5+,Bd4,Qxd5,Bxf6,gxf6,fxe4,Qc5+,Kh1,Bb5,Qb3,Bxc6,Rac1,Qd6,d4,Rac8,d5,Bb7,Qf3,Rxc1,Rxc1,Bc8,Rxc8,Kf8,Rc6,Qd8,Rxf6,Rxe4,Rxf7+,Kg8,Rxa7,Qxd5,Qf6', 'Re1+,Qf1,Rxf1#', 'https://lichess.org/training/YkTUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykUJy', 'Rapid', 'dtelak', 1812, 'knic', 1810, 'd4,d5,c4,dxc4,e3,e5,Nf3,exd4,Nxd4,Nc6,Qa4,Bc5,Nxc6,Qd7,Bxc4,Qxc6,Qxc6+,bxc6,Nc3,Nf6,a3,O-O,b4,Bd6,Bb2,Re8,Ne2,Be5,Nd4,Bf5,Ra2,Bxd4,Bxd4,Be6,Bxf6,gxf6,Rc2,Rab8,Ke2,Rb6,Rhc1,Bxc4+,Rxc4,Re6,a4,f5,Kf3,Kg7,b5,cxb5,Rxc7,bxa4,Rxa7,Ra6,Rcc7,Rf6', 'Rxf7+,Rxf7,Rxa6', 'https://lichess.org/training/ykUJy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YkuVA', 'Blitz', 'Tsetsen', 2199, 'DanielScheff', 2169, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,c6,Bc4,e6,O-O,Bd6,Bf4,Bxf4,Qxf4,O-O,a3,Rd8,Ne4,Nxe4,Qxe4,Qb6,c3,Qxb2,Rfc1,Nd7,Bd3,Nf6,Qh4,Qd2,Bf1,b6,g3,Rd5,g4,Rc8,Bg2,Rb5,a4,Rb2,a5,b5,g5,Nh5,c4,b4,Rf1,Nf4,Rad1,Ne2+,Kh1,Qf4,Qxf4,Nxf4,d5,exd5,cxd5,c5,d6,Nxg2,Kxg2,c4,d7,Rd8,Rfe1,Kf8,Re4,c3,Rc4,c2,Rdd4,b3,Rc8,c1=Q', 'Rxd8+,Ke7,Re8#', 'https://lichess.org/training/YkuVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKvM1', 'Rapid', 'alessioj98', 2034, 'RogerMore', 1991, 'e4,g5,d4,e6,Nc3,c5,Qh5,h6,d5,Nf6,Qd1,exd5,e5,Qe7,Qe2,Ne4,Nxd5,Qxe5,Nc3,d5,f3,Nc6,fxe4,Nd4,Nf3,Nxf3+,gxf3,d4,Nd5,Bd7,f4,Qd6,fxg5,hxg5,Bxg5,Bg7,Be7,Qe5,O-O-O,Bc6,Bg5,Qxg5+,Kb1,O-O-O,Bg2,Rhe8,Rhg1,Bxd5', 'Bh3+,Kb8,Rxg5', 'https://lichess.org/training/YKvM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykVQq', 'Classical', 'sahrac', 2018, 'Vladimir-57', 2004, 'd4,Nf6,e3,g6,Bd3,Bg7,Nd2,O-O,f4,d6,Ngf3,Nbd7,O-O,e5,f5,exd4,fxg6,fxg6,exd4,c5,c3,cxd4,Nxd4,Ne5,Bc2,Nfg4,Rxf8+,Qxf8,N2f3,Nxf3+,Nxf3,Qd8,Bg5,Qb6+,Nd4,Bxd4+,cxd4,Qxb2,Bb3+,Kg7,Qf1,Qxd4+,Kh1,Nf2+,Kg1,Ne4+,Kh1,Nxg5,Re1,Bf5,Re7+,Kh6,Qe1,Rb8,h3,d5,Bxd5,Rd8,Bb3,Rd7,Re8,Ne4', 'Qh4+,Kg7,Rg8#', 'https://lichess.org/training/ykVQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yKVYy', 'Rapid', 'yboktay', 1694, 'infinito941', 1702, 'e4,c5,Nf3,Nc6,Nc3,g6,Bc4,Bg7,d3,e6,Bd2,Nge7,O-O,d5,exd5,exd5,Bb5,O-O,Re1,Be6,Bg5,f6,Bf4,Bf7,Na4,Qa5,c4,Ne5,b3,a6,Bd7,Nxf3+,gxf3,Nf5,Bxf5,gxf5,Bd6,Rfd8,Bxc5,b5,Bb6,Qb4,Bxd8,bxa4,Bc7,dxc4,dxc4,Qb7,Qd7,Qxf3,Re7,Rf8,Bd6,axb3,axb3,Qxb3,Rae1,Qxc4,R7e3,f4,Bxf8,fxe3,Bxg7,exf2+,Kxf2,Kxg7,Rg1+,Kh8', 'Qd8+,Bg8,Qxf6#', 'https://lichess.org/training/yKVYy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykW6J', 'Blitz', 'albelli', 2048, 'Charleybrown70', 2079, 'e4,c6,Nc3,d5,f4,dxe4,Nxe4,Nf6,Nf2,Bf5,d4,h6,Nf3,e6,c3,Be7,Bd3,Bxd3,Nxd3,Nbd7,O-O,b5,Nfe5,Rc8,f5,exf5,Rxf5,Nxe5,Nxe5,O-O,Qf3,c5,Be3,cxd4,Bxd4,Qd5,Qg3,Ne4,Qg4,Bc5,Nf3,Bxd4+,Nxd4,Qa8,Raf1,Rc5,R5f4,Rg5,Qf3,Nd2,Qxa8,Rxa8,Rxf7,Nxf1,Rxf1,a6,g3,Rf8', 'Rxf8+,Kxf8,Ne6+,Kf7,Nxg5+', 'https://lichess.org/training/ykW6J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yKwI5', 'Blitz', 'Husseinosama', 1986, 'Guigozz', 1988, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Be2,e6,Be3,Be7,Nb3,e5,g4,h6,h4,Bd7,Nb5,Be6,f4,Bxb3,axb3,a6,g5,Nxe4,Nc3,Nxc3,bxc3,exf4,Bxf4,hxg5,Be3,f5,Bh5+,Kd7,hxg5,Bxg5,Bc5,Bh4+,Kf1,Kc7,Bd4,Nxd4,Qxd4,Rxh5,Qxg7+,Qd7,Qg6,Rah8,Rd1,Bg3,Rxh5,Rxh5,Qxh5,f4,c4,Kb8,Qh8+,Ka7,Qd4+,Ka8,Qxd6,Qh3+,Ke2,Qg2+,Kd3,Qf3+,Kd2', 'Qe3#', 'https://lichess.org/training/yKwI5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yKWjE', 'Blitz', 'CM KingRAZOR', 2274, 'keshavkaurav', 2137, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nxc6,bxc6,Bd3,e5,O-O,Nf6,c4,Be7,Nc3,O-O,b3,Bg4,f3,Be6,Bb2,Qb6+,Kh1,Rfd8,Ne2,Nd7,f4,exf4,Nxf4,Ne5,Bc2,Ng6,Nxe6,fxe6,Qg4,e5,Qe6+,Kh8,Rf7,Bf8,Raf1,Re8,Qh3,Kg8,Bd1,Nf4,R7xf4,exf4,Rxf4,Qa5,Qg3,Qd2', 'Rxf8+,Rxf8,Qxg7#', 'https://lichess.org/training/yKWjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ykwm8', 'Blitz', 'k51', 2085, 'Romartin', 2031, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nbd7,Bd3,b5,Rhe1,Bb7,Nd5,exd5,Nf5,dxe4,Bxe4,Bxe4,Rxe4,Nxe4,Qxe4,O-O,Nxe7+,Kh8,Rd3,Nc5', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/ykwm8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKxxa', 'Rapid', 'MrOostermeyer', 1884, 'aaasd', 1795, 'e4,e6,d4,d5,Nd2,Bb4,c3,Bd6,e5,Bf8,Bd3,c5,Ngf3,Nc6,dxc5,Bxc5,Nb3,Qb6,Nxc5,Qxc5,Be3,Qf8,O-O,Nge7,b4,Ng6,Bc5,Nce7,Bb5+,Bd7,Bxd7+,Kxd7,Qa4+,Kc7,Bd6+,Kc8,Qa5,Qd8,Qc5+,Nc6,b5,Qa5,bxc6,Qxc5,cxb7+,Kxb7,Bxc5,Rhc8,Rab1+,Ka6,Bd4,Nf4,Rb3,Rab8,Ra3+,Kb7,Rb1+,Kc7,Rxa7+,Kd8,Rxb8,Rxb8,g3', 'Rb1+,Ne1,Rxe1#', 'https://lichess.org/training/YKxxa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YKXyM', 'Blitz', 'Mk3cyrax', 1717, 'Baktess', 1754, 'f4,d5,d4,Nc6,Nf3,e6,e3,Nf6,Bd3,Bd6,O-O,Bd7,c3,O-O,Re1,Ne4,Bxe4,dxe4,Ne5,f6,Nxd7,Qxd7,Qh5,e5,dxe5,fxe5,Nd2,exf4,Nxe4,fxe3,Bxe3,Bf4,Bxf4,Rxf4,Kh1,Raf8,Rad1,Qe6,Ng5', 'Qxe1+,Rxe1,Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/YKXyM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YL1Jj', 'Rapid', 'ousama_rajab', 1678, 'FiTaKa1', 1815, 'e4,c5,Bc4,d6,Qh5,e6,e5,dxe5,Qxe5,Nf6,Nf3,Be7,h3,Nc6,Qe2,Nd4,Nxd4,cxd4,Bd3,O-O,g4,Nd5,Qe4,Nf6,Qg2,Nd5,Qe4,Nf6,Qg2,Rb8,c3,b6,Bc2,Bb7,f3,d3,Bd1,Nd5,O-O,Nf4,Qg3,Bc5+,Kh1,Bd6,Na3,Ne2,Qg2,Ng3+,Kg1,Nxf1,Kxf1,Bxa3,bxa3,Qf6,a4,Qf4,Kg1,Bd5,Ba3,Rfd8,Be7,Rd7,Bh4,g5', 'Bg3,Qf6,Bxb8', 'https://lichess.org/training/YL1Jj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YL2vO', 'Rapid', 'rahem', 1726, 'pdroasensio', 1824, 'e4,d5,Nf3,dxe4,Ng5,e5,Nxe4,f5,Qh5+,g6,Qe2,fxe4,Qxe4,Qd6,Bc4,Bf5,Qxb7,Qc6,Bb5,Qxb5,Qxb5+,Nd7,Nc3,Bd6,d3,Nf6,Bg5,Rb8,Qc6,O-O,Bxf6,Nxf6,Rb1,Kg7,O-O,Rb6,Qf3,a5,Nd5,e4,dxe4,Bxe4,Qc3,Bxd5,Qxa5,Bb4,Qa7,Bd6,Qa5,Bb4,Qa7,Rc8,c3,Bd6,Qa5', 'Ra8,Qxa8,Bxa8', 'https://lichess.org/training/YL2vO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YL3uF', 'Blitz', 'BOGGI', 2104, 'Eilmer', 2023, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e5,O-O,Nc6,d5,Ne7,b4,Nh5,g3,f5,Ng5,Nf6,Bf3,fxe4,Ncxe4,Nf5,Ne6,Bxe6,dxe6,Qc8,c5,d5,Nxf6+,Bxf6,Bxd5,Kg7,Bb2,Rd8,Qf3,c6,Bb3,e4,Bxf6+,Kxf6,Qxe4,Rd4,Qf3,Qc7,g4,Rf4,Qc3+,Nd4,f3,Ke7,Rae1,Raf8,Re3,h5,h3,hxg4,hxg4,Rh8,Rf2,Rh3,Kg2,Rxg4+,fxg4', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/YL3uF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YL448', 'Classical', 'ykpylmz', 1801, 'brkimparator', 1873, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,e6,O-O,a6,a4,Be7,e5,dxe5,Nxe5,O-O,h3,Nbd7,Nf3,Nb6,Ba2,Qd6,d4,cxd4,Nxd4,Bd7,Re1,Nbd5,Nxd5,Nxd5,Bxd5,Qxd5,Nf5,Bc5,Qxd5,exd5,Be3,Bxf5,Bxc5,Rfe8,c3,Bc2,a5,Bb3,Re7,Rxe7,Bxe7,Re8,Re1,f6,f3', 'Kf7,Kf2,Rxe7', 'https://lichess.org/training/YL448');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YL4jE', 'Rapid', 'beyondthought', 1781, 'jaybird', 1857, 'd4,d5,e4,e6,Nc3,c5,exd5,exd5,Nf3,Nf6,Bg5,Be6,Bb5+,Nc6,Qe2,c4,Ne5,Rc8,Bxc6+,bxc6,O-O,Be7,b3,cxb3,axb3,O-O,Rxa7,Bb4,Qf3,Qb6,Bxf6,Qxa7,Qg3,g6,Qg5,Be7', 'Bxe7,f6,Bxf6', 'https://lichess.org/training/YL4jE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yl5nO', 'Rapid', 'Vega2015', 1784, 'oximoron1', 1776, 'd4,d5,h3,Bf5,Nf3,e6,a3,Nc6,Bg5,Be7,Bxe7,Qxe7,e3,Nf6,c4,b6,cxd5,exd5,Nbd2,O-O,Rc1,Nd8,Ba6,Ne6,Ne5,c5,Nc6,Qd6,Bb7,Rae8,O-O,Ne4,Nf3,f6,Nxa7,Qb8,Bxd5,Qxa7,Nh4,Bxh3,Bxe6+,Rxe6,gxh3,Ng5,Qg4,Re4,Qg3,Qd7,Kh2,Qe6,dxc5,bxc5,Rce1', 'Rxh4,Qxh4,Nf3+,Kg3,Nxh4', 'https://lichess.org/training/yl5nO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YL6Gb', 'Blitz', 'BrandetRodrigo', 2157, 'MgaPR', 2458, 'd4,d5,c4,e6,Nc3,f5,Bf4,Nf6,Nf3,c6,e3,Bd6,Bd3,O-O,O-O,b6,a3,Ba6,b3,Ne4,Bxe4,fxe4,Ne5,Bxe5,Bxe5,dxc4,b4,Nd7,Bd6,Rf6,Nxe4,Rg6,Bg3,Qe7,Re1,Rd8,Rc1,b5,Bd6,Qe8,Bc5,Nxc5,Nxc5,Bc8,f4,Qe7,Qf3,Rd5,g3,h5,Kf2,h4,g4,Rf6,Ne4,Rg6,h3,Rd8,Nc5,Bd7,Rcd1,Rf8,e4,a5,f5,axb4,axb4,e5,Qc3,exd4,Rxd4,Bc8,Kg2,Rd6,e5,Rxd4,Qxd4,Rd8,Qf2,Qg5,Ne4,Qe7,f6,Qxe5,f7+,Kf8,Qxh4,Rd4,Ng5,Rd2+,Kf1,Qf4+,Kg1,Qd4+,Kf1', 'Qf4+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/YL6Gb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yl7tT', 'Blitz', 'IrvinYa', 2640, 'IM ChessExplained', 2590, 'c4,e5,e3,Nc6,a3,Nf6,d3,g6,Nc3,Bg7,Nf3,O-O,Be2,Re8,Qc2,a5,O-O,d6,Bd2,h6,Rab1,Bf5,Nh4,Bg4,h3,Bxe2,Nxe2,e4,dxe4,Nxe4,Nf3,a4,Nc3,Nc5,Rbd1,Qd7,Nd5,Ne4,Bc3,Nxc3,Nxc3,Bxc3,Qxc3,b6,c5,bxc5,Qxc5,Rab8,Qc2,Ne5,Nxe5,Rxe5,Rd4,Rb3,Rfd1,Reb5,R1d2,Rb7,Qe4,Qe6,Qf4,Kg7,Rxa4,Rxb2,Rxb2,Rxb2,Ra7,c5,Ra6,Rb1+,Kh2,Rd1,a4,g5,Qf3,Qe5+,g3,Ra1,Kg2,c4,a5,c3,Rc6,Rxa5,Rc7,Rc5', 'Qxf7+,Kh8,Qf8#', 'https://lichess.org/training/yl7tT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YLbIa', 'Rapid', 'RubenM98', 1930, 'cchyy', 1817, 'Nf3,Nf6,g3,d5,Bg2,e6,O-O,c5,c4,Nc6,cxd5,exd5,d4,b6,dxc5,Bxc5,Nc3,Bb7,Bg5,O-O,Nxd5,Qxd5,Qa4,Nd4,Nxd4', 'Qxg2#', 'https://lichess.org/training/YLbIa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yLbUE', 'Classical', 'Annadi00', 1996, 'wildlion', 1887, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Bf5,c4,Nf6,Nc3,e6,Bg5,Bb4,Qa4+,Nc6,d5,Bxc3+,bxc3,exd5,cxd5,Qxd5,Bc4,Qe4+,Kf1,O-O-O,h4,h6,Bxf6,gxf6,Re1,Qf4', 'Be6+,Bxe6,Qxf4', 'https://lichess.org/training/yLbUE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YLbXF', 'Classical', 'jelik', 1728, 'ptr81', 1732, 'Nf3,d5,d4,Nc6,Bg5,h6,Bh4,Nf6,Bxf6,exf6,e3,Bd6,Bb5,Bd7,Bxc6,Bxc6,c3,O-O,Nh4,Bd7,O-O,g5,Nf3,Re8,h3,f5,Qb3,c6,Nbd2,g4,hxg4,fxg4,Nh2,Qh4,g3,Qh3,Qxb7,Rxe3,Qxd7', 'Rxg3+,fxg3,Qxg3+,Kh1,Qxh2#', 'https://lichess.org/training/YLbXF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yLcO1', 'Rapid', 'Pasyakov_Andrey', 2030, 'Noob97410', 2007, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d4,exd4,e5,d5,exf6,dxc4,fxg7,Rg8,Re1+,Be6,Bg5,Qd5,Nc3,Qf5,Ne4,Rxg7,Nh4,Rxg5,Nxf5,Rxf5,Nxc5,Rxc5,Qg4,O-O-O,Qg7,d3,c3,Rb5,Rab1,d2,Red1,Bf5,Ra1,Rxb2,Qxf7,Bc2,f4,Bxd1,Rxd1,Rc2', 'Qf5+,Kb8,Qxc2', 'https://lichess.org/training/yLcO1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YlDy5', 'Rapid', 'koga545hun', 1951, 'ReiG_G', 1676, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Nxc6,bxc6,Bd3,Bc5,h3,O-O,O-O,Bb6,e5,Nd5,Nxd5,cxd5,Qh5,g6,Qh6,Bd4,Bg5,f6,Bxf6,Rxf6,exf6,Bxf6,Rab1', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/YlDy5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ylE3a', 'Rapid', 'feodor77', 2256, 'Haleguathor1', 2200, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,cxd4,cxd4,Nge7,Na3,Nf5,Nc2,Bb4+,Kf1,Be7,g4,Nh4,Nxh4,Bxh4,b4,Nxe5,Be3,Nc4,Bxc4,dxc4,g5,Qc6,Rg1,f6', 'Qh5+,g6,Qxh4', 'https://lichess.org/training/ylE3a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YlFLb', 'Blitz', 'MUSA2020', 1878, 'ProfNykterstein', 1839, 'd4,Nf6,Nc3,g6,e4,d6,Bd3,e5,d5,c6,Nge2,cxd5,Nxd5,Nc6,O-O,Be6,c4,Bg7,b3,O-O,Bg5,h6,Bh4,g5,Bg3,Nh5,Rc1,Qd7,h3,Nxg3,Nxg3,Nd4,Nh5,f5,exf5,Bxf5,Nxg7,Kxg7,Bxf5,Rxf5,Qg4,Raf8,Ne3,R5f7,Qxd7,Rxd7,Rfe1,b6,Nc2,Ne6,Rcd1,Nf4,Rd2,Kf6,Red1,Ke6,Nb4,a5,Nd3,Nh5,g4,Nf6,f3,Ng8,Kg2,Ne7,Nf2,Ng6,Ne4,Nf4+,Kg3,Rfd8,Nc3,h5,Nd5,h4+,Kh2,Ng6,Nxb6,Rf7,Rd3,Rf4,Nd5,Rd4,Rxd4,exd4,Rxd4,Nf4,Nxf4+,gxf4,Rxf4,Ke5,Re4+,Kf6,Kg2,d5,cxd5,Rxd5,Re2,Rd3,f4,Rg3+,Kh2,Rf3,f5,Kg5,Rc2,Kf6,Rc6+,Kg5,Rg6+,Kf4,Kg2,Rg3+,Kh2,Kf3,f6,Rg2+,Kh1,Rxa2,f7', 'Kg3,f8=Q,Ra1+,Qf1,Rxf1#', 'https://lichess.org/training/YlFLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yLfRX', 'Blitz', 'war_rocket_ajax', 1840, 'Sanych17', 1641, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Nf6,c3,Be7,d3,O-O,O-O,d5,exd5,Nxd5,fxe5,Bg4,Qe1,Bxf3,Rxf3,Re8,Qe4,Bc5+,d4,Nf6,Qf5,Nxd4,cxd4,Qxd4+,Be3,Qxc4,Nc3,Bxe3+,Rxe3,Nd5,Nxd5,Qxd5,Rf1,Rf8,Ref3,Rae8,Rd3,Qxe5,Qf2,b6,Kh1,Re6,a4,Rh6', 'Qxf7+,Rxf7,Rd8+,Qe8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/yLfRX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yLfth', 'Rapid', 'corduroypj', 1762, 'GameMasterTet', 1820, 'd4,e5,dxe5,Nc6,Nf3,Bc5,Bg5,f6,exf6,Nxf6,e3,d5,Bd3,Bg4,h3,Bh5,O-O,Ne5,Be2,Nxf3+,Bxf3,Bg6,Bxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/yLfth');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YlfwL', 'Rapid', 'kimuraal', 2024, 'hanngar87', 2093, 'e4,d6,d4,Nd7,c4,e5,Nf3,h6,Be2,Ngf6,Nc3,c6,O-O,Qc7,Be3,Be7,d5,g5,b4,a5,b5,c5,Rb1,b6,a4,Rg8,Ne1,Nf8,Kh1,Ng6,g3,Bh3,Ng2,Nf4,Nxf4,gxf4,gxf4,Bxf1,Qxf1,exf4,Bxf4,h5,Qh3,Ng4,Bxg4,hxg4,Qh7,O-O-O,Re1,Bf6', 'Qf5+,Qd7,Qxf6', 'https://lichess.org/training/YlfwL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ylgcp', 'Rapid', 'ali_batu', 1837, 'bastonati', 1824, 'd4,d5,c4,c6,Nc3,Bf5,Nf3,e6,Bf4,Nf6,Qb3,b6,cxd5,cxd5,Nb5,Na6,Qa4,Qd7,Qxa6,Rc8,Nc7+,Rxc7,Bxc7,Qxc7,Qb5+,Nd7,Ne5,a5,Nxd7', 'Bb4+,Qxb4,axb4', 'https://lichess.org/training/ylgcp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ylGmB', 'Rapid', 'AKgs', 2007, 'wtpyy', 1995, 'd4,Nf6,e3,d6,f4,g6,Bd3,Bg7,Nf3,O-O,O-O,Nfd7,c3,e5,fxe5,dxe5,d5,Nc5,e4,c6,c4,Nba6,a3,Nxd3,Qxd3,Nc5,Qc2,f5,dxc6,fxe4,cxb7,Bxb7,Bg5,Qd3,Qxd3,Nxd3,Nfd2,h6,Be3,Rxf1+,Kxf1,Rf8+,Ke2,Nxb2,Nc3,Nd3,Ncxe4,Nf4+,Bxf4,Rxf4,Ke3,h5,g3,Rf5,Rb1,Bh6+,Kd3,Bxe4+,Nxe4,Rf3+,Kc2,Rxa3,c5,Ra4,Kd3,Rd4+,Kc3,Rxe4,c6,Re3+,Kc4,Re2,Rb3,Re4+,Kb5,a6+,Kxa6,Rc4,Kb7,e4,c7,e3,c8=Q+', 'Rxc8,Kxc8,e2,Rb1,Bd2', 'https://lichess.org/training/ylGmB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YLHcf', 'Classical', 'Danilo_Bazilio', 1798, 'cleverbutverycareful', 1911, 'e4,e5,Nf3,d6,Bc4,Nf6,O-O,Nxe4,Re1,Nf6,Nc3,Be7,d4,exd4,Nxd4,O-O,b3,Nbd7,Bb2,Ne5,Be2,c5,Nf3,Nxf3+,Bxf3,Qc7,Nd5,Nxd5,Bxd5,Re8,Qf3,Rf8,Qg3,g6,Bc1,Bf6,Rb1,Bd7,Bh6,Bg7,Bf4,Be5,Bxe5,dxe5,c4,Rfe8,Re3,Be6,Be4,f5,Bxf5,Bxf5,Rbe1,Re6,Rxe5,Rxe5,Rxe5,Kf7', 'Rxf5+,gxf5,Qxc7+', 'https://lichess.org/training/YLHcf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ylhKJ', 'Classical', 'Fernandovesuvio', 1859, 'Ookami21', 1827, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,Nf6,f3,O-O,Qd2,d5,Nxc6,bxc6,O-O-O,Qa5,Bh6,Rb8,Bxg7,Kxg7,g4,Qb4,b3,Qa3+,Kb1,dxe4,g5,Nd5,Nxd5,cxd5,Qxd5,exf3', 'Qe5+,Kg8,Qxb8', 'https://lichess.org/training/ylhKJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ylHLZ', 'Rapid', 'mixaaugr', 1881, 'dinesh_123', 1937, 'e4,c5,Nc3,g6,f4,e5,d3,exf4,Bxf4,Bg7,Qd2,h6,O-O-O,d6,Nb5,Qb6,Nxd6+,Kf8,Nc4,Qa6,a3,Be6,Nf3,Bxc4,dxc4,Nc6,Qd5,Qb6,Qd6+,Nge7,e5', 'Rd8,Qxd8+,Nxd8', 'https://lichess.org/training/ylHLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yLHQw', 'Rapid', 'therealDrivingcat', 1713, 'Tjhloupy', 1768, 'd4,d5,c4,e6,e3,Nf6,Nf3,c5,cxd5,exd5,Bb5+,Nc6,Qa4,Bd7,O-O,a6,Bxc6,bxc6,Qc2,c4,b3,cxb3,axb3,Bd6,Ba3,Bxa3,Rxa3,O-O,Ne5,Qc7,Rc1,Rfc8,Nd2,a5,Qc5,Ne8,Nxd7,Qxd7,Rxa5,Rxa5,Qxa5,Rb8,b4,Qb7,g3,Nc7,Nf3,f6,Nh4,Ne6,Nf5', 'Ra8,Qxa8+,Qxa8', 'https://lichess.org/training/yLHQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YLIMi', 'Rapid', 'Nurbolat-s84', 1681, 'Vasiliy-04', 1760, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,h3,g6,a3,Nd4,Ba2,Qd7,c3,Qe6+,Ne2,Qxe2+,Qxe2,Nxe2,Kxe2,Nf6,Re1,Bf5,Kf1,Bd3+,Kg1,e6,Re3,Bf5,d4,Bh6,Re1,Bxc1,Rxc1,O-O,Nd2,Kg7,Nf3,Be4,Ne5,Nh5,f3,Bf5,g4,Nf4,Kh2,Bd3,Kg3,Ne2+,Kh4,f6,Nxd3', 'g5+,Kh5,Ng3#', 'https://lichess.org/training/YLIMi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yljq3', 'Rapid', 'fatpanda11', 1901, 'Comando9149', 1959, 'e4,Nc6,d4,e6,c4,g6,d5,Ne5,f4,Bb4+,Bd2,Bxd2+,Nxd2,Qf6,fxe5,Qxe5,b3,Nf6,Ngf3,Qf4,Qc2,Ng4,g3', 'Qe3+,Kd1,Nf2+', 'https://lichess.org/training/yljq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YljWf', 'Rapid', 'mohit3008', 1875, 'dwdfit', 1896, 'e4,e5,f4,exf4,Bc4,Bc5,d4,Bb6,Bxf4,c6,Nf3,d5,exd5,cxd5,Bd3,Nf6,O-O,O-O,c3,Nh5,Bd2,Be6,Ng5,Nf6,Qe1,Re8,Qh4,h6,Nxe6,Rxe6,Bxh6,gxh6,Qxh6,Nbd7,Rf3,Nf8', 'Rg3+,Ng4,Rxg4+', 'https://lichess.org/training/YljWf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ylK4B', 'Rapid', 'shawkysaeed828', 1909, 'ArchibaldTuttle', 1851, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Be2,Nf6,e5,Qa5+,c3,Qxe5,O-O,Be7,Be3,O-O,Qd2,d5', 'Bf4,Ne4,Bxe5,Nxd2,Nxd2', 'https://lichess.org/training/ylK4B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ylKIK', 'Blitz', 'Stan_97', 1706, 'Satindra', 1731, 'd4,d5,e3,Bf5,c4,c6,Nf3,e6,Nc3,Nf6,cxd5,exd5,Bd3,Qd7,Qc2,g6,Ne5,Qe6,O-O,Bg7,Re1,Nbd7,e4,Nxe5,dxe5,dxe4,exf6,Bxf6,Nxe4,O-O-O,Bf4,Rxd3,Qxd3,Rd8,Nd6+,Qxd6,Qxd6,Rxd6,Bxd6,Bxb2,Rab1,Bc3,Re7,Bxb1,Rxf7,Ba5,Rxh7,g5,Rh8+,Kd7,Bg3,Bxa2,Rh7+,Kc8,h4,gxh4,Bxh4,c5,f4,c4,f5,c3,f6,Bb6+,Kf1,Bc4+,Ke1,Be3,Kd1,Bd3,f7', 'c2+,Ke1,c1=Q#', 'https://lichess.org/training/ylKIK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YLLDt', 'Rapid', 'SC84', 1866, 'Nikolya_Subboteya', 1885, 'b4,e5,Bb2,e4,a4,Nf6,b5,Bc5,c4,O-O,g3,d5,e3,d4,exd4,Bxd4,Bxd4,Qxd4,Nc3,Ng4,Qe2,f5,h3,Ne5,Bg2,Nbd7,Qe3,Nd3+,Ke2,Qxc4,Kf1,N7c5,Nge2,f4,gxf4,Nxf4,Bxe4,Nxe2', 'Bd5+,Qxd5,Nxd5', 'https://lichess.org/training/YLLDt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YlNd2', 'Rapid', 'phoebes', 1639, 'Noge', 1632, 'd4,Nc6,Nf3,d5,e3,a6,c4,Bf5,Nc3,Nb4,Qa4+,Nc6,cxd5,Bd7,dxc6,Bxc6,Qb3,Nf6,Bc4,e6,Ne5,Bd5,Bxd5,Nxd5,Nxd5,exd5,O-O,c6,Qc2,Qf6,Qb3,b5,Qc2,Bd6,Qxc6+,Ke7,Qd7+,Kf8,Ng4,Qg6,Qc6,Bxh2+,Nxh2,Qxc6,Bd2,g6,Bb4+,Kg7,Rac1,Qe6,Nf3,Rac8,Ng5,Qf5,Nf3,Rxc1,Rxc1,h5,Ne5,h4,Rc7,Rf8', 'Bxf8+,Kxf8,Rxf7+,Qxf7,Nxf7', 'https://lichess.org/training/YlNd2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YLNlG', 'Blitz', 'Teer14', 1683, 'Khoshnaw-80', 1524, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,g6,Qc3,Qf6,Qxf6,Nxf6,f3,Bg7,Nc3,O-O,Bg5,Re8,Bxf6,Bxf6,Nd5,Bd8,c4,Nd4,Bd3,c6,Ne3,Bg5,Ng4,h5,h4,hxg4,hxg5,gxf3,gxf3,d5,Ne2,Nxe2,Kxe2,dxe4,Bxe4,Bf5,Rh4,Rad8,Rah1,Bxe4', 'Rh8+,Kg7,R1h7#', 'https://lichess.org/training/YLNlG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YLoRP', 'Classical', 'GiucoPiano', 1710, 'med9tetra', 1768, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,c4,c6,Nc3,Ne7,Bd3,dxc4,Bxc4,O-O,O-O,Bg4,d5,b5,Be2,b4,Ne4,Nxd5,Neg5,h6,Ne4,Bf4,Bxf4,Nxf4,Qxd8', 'Nxe2+,Kh1,Rxd8', 'https://lichess.org/training/YLoRP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YLQaG', 'Blitz', 'juadpuca', 1594, 'BlackRussia', 1506, 'e4,e5,Nf3,Nf6,d3,d5,exd5,Qxd5,Nc3,Bb4,Bd2,Bxc3,Bxc3,O-O,Be2,Re8,O-O,Nc6,a3,Bg4,Re1,h6,h3,Bh5,Nh4,Bxe2,Rxe2,Nd4,Re1,g5,Bxd4,exd4,Nf3,c5,b3,Qf5,Qd2,Nd5,Nh2,Nf4,Ng4,Kh7,Kh2,h5,g3,Nxh3,Kxh3,hxg4+,Kg2,Kg6,Rh1,Re6,Rh2,Rae8,Rah1,Qf3+,Kf1,Re2', 'Rh6+,Kf5,Qxg5+,Kxg5,R1h5#', 'https://lichess.org/training/YLQaG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YlQkM', 'Rapid', 'stronger', 2155, 'Relmasry', 2075, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Nbd7,e3,a6,Bd3,Be7,O-O,O-O,Nbd2,h6,Bh4,c6,e4,dxe4,Nxe4,Nxe4,Bxe7,Qxe7,Bxe4,f5,Bc2,Nf6,Ne5,Qc7,Qf3,Rd8,Rad1,a5,Rfe1,a4,h3,Ra5,b4,axb3,Bxb3,c5,d5,exd5,cxd5,Kh7,Bc2,g6,g4,Rxa2,gxf5,Rxc2,fxg6+,Kg7,h4,Rf8,Qd3,Rxf2,Kxf2,Ng4+,Kg1,Nxe5,Qc3,Rf5', 'd6,Qd7,Rxe5', 'https://lichess.org/training/YlQkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YlQZ7', 'Blitz', 'rajt1', 1649, 'Semik1954', 1790, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d4,exd4,e5,d5,exf6,dxc4,Re1+,Be6,Ng5,Qd5,Nxe6,fxe6,fxg7,Rg8,Bh6,O-O-O,Qg4,Ne5,Qh3,d3,cxd3,cxd3,Nc3,Qd6,Bf4,Qd4,Bxe5,Qxf2+,Kh1,d2,Qxe6+,Kb8,Rf1,Qe3,Rf8,Bd6,Rxg8', 'Qe1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/YlQZ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yLre9', 'Classical', 'chrisches', 2055, 'kim_maksim2', 2013, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,e6,Ne2,Bd6,O-O,O-O,Qc2,Bxf4,Nxf4,Bd7,Qe2,Rc8,Bc2,Qb6,h3,Qxb2', 'Bxh7+,Kxh7,Qxb2', 'https://lichess.org/training/yLre9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YLsD0', 'Classical', 'MpariGiua', 1691, 'ipekselen', 1683, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,a4,h6,c3,O-O,b4,Bb6,a5,Bxf2+,Rxf2,Bg4,b5,Ne7,h3,Bh5,Nbd2,Ng6,Ba3,Nf4,d4,Nd7,Qb3,Qf6,dxe5,Nxe5,Nxe5,dxe5,Bxf8,Qg5,Bf1', 'Nxh3+,Kh2,Nxf2', 'https://lichess.org/training/YLsD0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ylsuR', 'Blitz', 'caspabranca11', 1927, 'Apostol666', 1899, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb6,e5,Qe7,O-O,Ng8,d5,Na5,d6,Qd8,dxc7,Bxc7,Bd3,b6,Re1,Bb7,b4,Bxf3,Qxf3,Nc6,Bb2,Nge7,Nd2,O-O,a3,Ng6,Bxg6,fxg6,Qe2,Qg5,e6,Rae8,Ne4,Qf4,exd7', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/ylsuR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yltUh', 'Classical', 'sodjex', 1664, 'kirashin777', 1697, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,f3,O-O,Nge2,c6,Ng3,Re8,Bd3,e5,O-O,exd4,exd4,dxc4,Bxc4,Be6,b3,Nbd7,Bg5,Qa5,Qc1,Nb6,Nce4,Nxe4,fxe4,Bxd4+,Kh1,Bxa1,Bxe6,Rxe6,Qf4,Be5', 'Qxf7+,Kh8,Qxe6', 'https://lichess.org/training/yltUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YlUMv', 'Rapid', 'GulfamKhanShairwani', 1722, 'DrunkenMasterr', 1785, 'd4,c5,c3,cxd4,cxd4,d5,a3,e6,e3,a6,g3,Ne7,Bg2,Ng6,Nf3,Be7,O-O,Nc6,Bd2,h5,Qa4,h4,Ne5,Nxe5,dxe5,hxg3,fxg3,Bd7,Qg4,Nxe5', 'Qxg7,Rf8,Qxe5', 'https://lichess.org/training/YlUMv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yLwy8', 'Rapid', 'DaniilS', 1611, 'Guilherme1983', 1691, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Qf3,d6,Bc4,Nc6,Nxc6,bxc6,O-O,Nf6,Bg5,Be7,e5,dxe5,Qxc6+,Bd7,Qf3,e4,Qc3,O-O,Na3,Re8,Rad1,Qc7,Qd4,Rad8,Qe3,Ng4,Qf4,e5', 'Qxf7+,Kh8,Bxe7', 'https://lichess.org/training/yLwy8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YlXL5', 'Blitz', 'CM Mistheoretical', 2413, 'Seth-KCAmps', 2304, 'd4,g6,Bg5,Bg7,c3,h6,Bh4,c5,dxc5,a5,Nd2,Qc7,Ne4,f5,Bg3,f4,Bh4,g5,e3,gxh4,Qh5+,Kf8,Bc4,e6', 'Nd6,Qxd6,cxd6', 'https://lichess.org/training/YlXL5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ylxM7', 'Rapid', 'welltohell86', 1730, 'beka_666', 1623, 'd4,g6,c4,Bg7,Bf4,Nf6,e3,d6,Nc3,c5,Nf3,O-O,h3,Qb6,b3,Nc6,Rc1,cxd4,Nxd4,Nxd4,exd4,Bf5,Be3,Qb4,Bd2,Qb6,Be3,Ne4,Nd5,Qa5+,b4,Qd8,Bd3,Rc8,g4,Bxg4,hxg4,Nf6,Nxf6+,Bxf6,c5,a5,Bh6,Bg7,Bxg7,Kxg7,a3,b6,cxb6,Qxb6,Rxc8,Rxc8,bxa5,Qxa5+,Qd2', 'Rc1+,Ke2,Qxd2+,Kxd2,Rxh1', 'https://lichess.org/training/ylxM7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yly4l', 'Blitz', 'Stevenabreu', 1818, 'Nicho247', 1786, 'e4,e6,Nf3,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Bg5,Nc6,Bxf6,gxf6,Bb5,Bh6,Qe2,a6,Ba4,b5,Bb3,Rg8,Nh4,f5,Nxf5,Rxg2,Nxh6,Nxd4,Qd3,Qg5,Qxh7,Rg1+,Rxg1,Qxg1+,Kd2,Qxf2+,Kc1', 'Qe1+,Nd1,Ne2+,Kb1,Qxd1#', 'https://lichess.org/training/Yly4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YLyYZ', 'Rapid', 'TonyP', 1992, 'gollydali', 1964, 'e4,e5,f4,d5,exd5,exf4,Nf3,Qxd5,Nc3,Qe6+,Qe2,Bc5,d4,Bb6,Bxf4,Nc6,O-O-O,Nf6,Qxe6+,fxe6,Bb5,Bd7,d5,exd5,Nxd5,Nxd5,Rxd5,O-O-O,Rhd1,a6,Ba4,Be6,Rxd8+,Rxd8,Rxd8+,Nxd8,Be5,g6,a3,Be3+,Kd1,Nf7,Bd4,Bf4,g3,Bd6,Be8,Bg4,Bxf7,Bxf3+,Kd2,c5,Bg7,Be4,c3,h5,Ke3,Bf5,a4,b5,axb5,axb5,Be8,b4,cxb4,cxb4,Bf6,Bc5+,Bd4,Bd6,Bc6,Kc7,Be4,Bxe4,Kxe4,Kc6,Bf6,Bc5,Kf4,Bg1,h4,Kd5,Kg5,Bd4', 'Bxd4,Kxd4,Kxg6,Kd3,Kxh5', 'https://lichess.org/training/YLyYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ylz1Q', 'Rapid', 'camarade123', 1801, 'Kartoface', 2131, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Bd6,Bg5,c6,Bd3,O-O,O-O,Re8,Qd2,Nbd7,Ne2,Qb6,b3,Rf8,Ng3,Bxg3,fxg3,Ne4,Bxe4,dxe4,Ne1,c5,Be3,cxd4,Bxd4,Qe6,Qg5,f6,Qe3,f5,c4,b6,Nc2,Qe7,Qc3,Nc5,Ne3,Bd7,Nd5,Qg5,Be5,Nd3,Bd6,Rfe8,Nc7', 'Qe3+,Kh1,Nf2+,Rxf2,Qxc3', 'https://lichess.org/training/ylz1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yLzpp', 'Rapid', 'goran5rovic', 1939, 'onurkorak', 1843, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,a4,Be7,O-O,Qc7,Bd3,Nbd7,Be3,Nc5,Qf3,O-O,Nce2,b6,b4,Ncd7,Rfc1,Bb7,Ng3,Ne5,Qe2,Rac8,c4,Rfd8,Nf3,Nxd3,Qxd3,h6,a5,bxa5,bxa5,Qb8,Bb6,Rd7,Nd2,Bd8,Rab1,Bxb6,Rxb6,Qc7,f4,Rcd8,f5,Qc5+,Kf1,Qxa5,Rcb1,e5', 'Rxb7,Rxb7,Rxb7', 'https://lichess.org/training/yLzpp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ym18F', 'Blitz', 'German_132005', 2194, 'Raulorellana1', 2040, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,c4,Bg4,Nc3,e6,Be2,Nc6,Qb3,Be7,cxd5,Nxd5,O-O,Bxf3,Bxf3,Nxd4,Qa4+,Nc6,Nxd5,exd5,Rd1,O-O,Bxd5,Qc7,Bf4,Bd6', 'Bxd6,Qxd6,Bxf7+,Rxf7,Rxd6', 'https://lichess.org/training/Ym18F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ym2vm', 'Rapid', 'kingofsicilian1245', 1666, 'Yakeen1111', 1654, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Qb6,Ndb5,Bxc3+,bxc3,Qa5,Bd4,Nxd4,Qxd4,f6,Bc4,Nh6,h3,b6,Qd5,Rb8,Rd1,a6,Nc7+,Kd8,Ne6+,Ke8,Qd2,dxe6', 'Qd8+,Kf7,Qxh8,Qxc3+,Rd2', 'https://lichess.org/training/ym2vm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YM5ia', 'Blitz', 'FM chesszerorfl', 2437, 'Thobisch', 2423, 'Nf3,Nf6,d4,e6,c4,Bb4+,Bd2,Be7,g3,O-O,Bg2,d5,Qc2,dxc4,Qxc4,a6,a4,b5,Qc2,Bb7,O-O,Be4,Qc1,Nc6,Nc3,Bxf3,Bxf3,Nxd4,Bxa8,Nb3,Qd1,Nxa1,Bg2,b4,Ne4,Nxe4,Bxe4,Nb3,Qxb3,Qxd2,Bd3,a5,e3,Bf6,Rb1,Rd8', 'Rd1,Rxd3,Qxd3,Qxd3,Rxd3', 'https://lichess.org/training/YM5ia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ym7bF', 'Blitz', 'sushant3000', 1845, 'kwasik', 1906, 'd4,d5,c4,e6,Nc3,c6,a3,Bd6,Nf3,Nd7,g3,Ngf6,Bg2,O-O,O-O,Re8,Re1,e5,e4,exd4,Nxd4,dxc4,Nf5,Bc5,Nd6,Re6,Nxc4,Qe7,b4,Bb6,Qc2,Ne5,Nxe5,Rxe5,Bf4,Rh5,e5,Ng4,Ne4,Bf5,Re2,Rxh2,Nf6+,Qxf6,exf6,Bxc2,Rxc2,gxf6,Re1,Rh5,a4,a5,Bf3,f5,b5,Bxf2+,Rxf2,Nxf2,Kxf2,Rh2+,Kg1,Ra2,bxc6,bxc6,Bxc6,Rc8,Bb5,Rcc2,Rd1,Rg2+,Kf1,Raf2+,Ke1,Rb2,Bh6,f6', 'Bc4+,Kh8,Rd8#', 'https://lichess.org/training/Ym7bF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ym7q8', 'Blitz', 'IM samisahi', 2577, 'bobifishersrb', 2212, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,h5,h4,Ng4,Bc4,Nd7,d4,Ndf6,c3,Qc7,Bg5,Nxf2,Kxf2,Ng4+,Kg1,Qxg3,Qe1,Qxe1+,Rxe1,Bf5,Bc1,e6,Ne5,Nxe5,Rxe5,Bd6,Re1,O-O-O,Kf2,Rhe8,Be3,Bg4,g3,f6,Be2,b6,Bxg4,hxg4,Re2,e5,Rhe1,exd4,Bxd4,Rxe2+,Rxe2,Kd7,Re4,c5,Be3,f5,Ra4,a5,c4,Re8,Ra3,Re4,Rc3,Be5,Rd3+,Bd4,Bxd4,Rxd4,Rb3,Kc6,Ke3,Rxc4,Rd3,Rc2,Kf4,Rxb2,Kxf5,c4,Rd1,b5,Kg6,c3,Kxg7,b4,h5,Rh2,h6,c2,Rc1,a4,h7,b3,axb3,axb3,Kg8,Kb5,Rf1,b2,Rf5+,Kc4,Rf2,Rxh7,Rxc2+,Kb3', 'Rxb2+,Kxb2,Kxh7', 'https://lichess.org/training/Ym7q8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ym7tv', 'Classical', 'Anyckin', 1852, 'koureas25', 1840, 'd4,d5,Nf3,Nf6,c4,e6,g3,dxc4,Bg2,Be7,Ne5,O-O,Nxc4,Nbd7,O-O,Nd5,Nc3,N7b6,Ne3,Nxe3,Bxe3,Nc4,Qc1,Bf6,Rd1,Nxe3,Qxe3,c6,Ne4,Be7,Nc5,Qb6,Qc3,Rd8,e3,Bd7,Rac1,Be8,Rc2,Rac8,Rdc1,Bxc5,dxc5,Qa6,Qb3,Qb5,Qxb5,cxb5,Bxb7,Rc7,Bg2,Rcd7,Bf3,Kf8,b4,Ke7,a3,Rd3,Rc3,Rd2,Bb7,Kd7,c6+,Kc7,Ba6,Rb8,Kf1,Rd6,Bb7,Rbd8,R1c2,Rd1+,Ke2,Rh1,h4,f6,Rc5,Bg6,Rd2,Rxd2+,Kxd2,Ra1,Rc3,Ra2+,Ke1,Ra1+,Kd2,Ra2+,Ke1,Ra1+,Ke2,Bh5+,Kd3,Ra2,f4,Kd6,c7', 'Be2+,Ke4,f5+,Kd4,Rd2+,Rd3,Rxd3#', 'https://lichess.org/training/ym7tv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yM8AE', 'Rapid', 'EGooch', 1922, 'Stxmld', 1877, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bd3,Nc6,Nxc6,bxc6,b3,e5,Bb2,Be7,Ne2,O-O,O-O,Re8,f4,exf4,Rxf4,Ng4,Nd4,Ne3,Qh5,g6,Qf3,Nxg2,Nxc6,Qb6+,Kxg2,Qxc6,Rxf7,Bf8,Rf1,Be6,Bc4,d5,Bxd5,Bxd5,exd5,Qxc2+,Rf2,Qc5,Rg7+,Bxg7', 'Qf7+,Kh8,Bxg7#', 'https://lichess.org/training/yM8AE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ym8oM', 'Rapid', 'drknurrli', 1892, 'Kuba_Kaminski', 1832, 'e4,e5,Bc4,Nc6,Nf3,Nd4,Nxe5,Qg5,Bxf7+,Ke7,O-O,Qxe5,f4,Qc5,b3,Kxf7,Kh1,d6,e5,Bf5,c3,Nc2,d4,Qb6,e6+,Kxe6,Qe2+,Kf6,g4,Qc6+,Kg1,Nxa1,gxf5,g6,Qe6+,Kg7,fxg6,hxg6,f5,Rh6,Bxh6+,Nxh6,Qxg6+,Kh8,f6,d5,Rf3,Re8,Rh3,Re1+', 'Kf2,Qd7,Rxh6+,Bxh6,Qxh6+', 'https://lichess.org/training/ym8oM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ymB6t', 'Blitz', 'lnxslack', 2006, 'NM luis-garcia', 2084, 'e4,c5,Bc4,Nc6,Nc3,e6,f4,d5,exd5,exd5,Nxd5,Nf6,Qe2+,Be7,Nxe7,Qxe7,Qxe7+,Nxe7,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,O-O-O,O-O,Nc6,c3,Nf6,Re1,Rhe8,Kf2,Ng4+,Kg3,Rxe1,Nxe1,Nf6,d3,Ne7,Be3,Nf5+,Kf3,b6,g4,Nxe3,Kxe3,Nxg4+,Kf3,Nxh2+,Ke4,Ng4,Nf3,Nf6+,Ke3,Nd5+,Ke4,Nf6+,Ke3,Re8+,Kd2,Nd5,f5,Ne3', 'Re1,Nc4+,dxc4', 'https://lichess.org/training/ymB6t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ymbdi', 'Rapid', 'naserzaki', 1864, 'BlackDingo', 1859, 'e4,e5,Nf3,Nf6,Nc3,d6,h3,h6,Bc4,Be7,a3,O-O,d4,Nc6,dxe5,Nxe5,Nxe5,dxe5,O-O,c6,Qf3,a6,Qg3,Kh7,Qxe5', 'Bd6,Qd4,Bh2+', 'https://lichess.org/training/Ymbdi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ymBH2', 'Blitz', 'FM ald2', 2350, 'FM And_Again', 2458, 'Nf3,Nf6,c4,c5,d4,cxd4,Nxd4,Nc6,Nc3,e6,g3,Bb4,Bg2,O-O,O-O,d5,cxd5,exd5,Bg5,Bxc3,bxc3,Be6,Nxe6,fxe6,c4,d4,e3,e5,exd4,exd4,Rb1,Qd7,Qa4,h6,Rxb7,Qxb7,Bxc6,Qxc6,Qxc6,hxg5,Qc5,Rfd8,Qxg5,Rac8,c5,Rd5,Qf4,Rcxc5,g4,Nxg4,Qb8+,Kh7,Qxa7,d3,Qa4,Nf6,f3,Rc2,Rd1,Rg5+,Kh1,Kh6,Qh4+,Kg6,Qh3,Rh5,Qg3+,Kh7,Rxd3,Rxa2,Rd1,Nd5,Qg4,Raxh2+,Kg1,Ne3,Qe4+,Nf5,Rd5', 'Rh1+,Kg2,R5h2#', 'https://lichess.org/training/ymBH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YMbOk', 'Blitz', 'GeorgesSmilley', 1522, 'Sbmulla', 1516, 'd4,g6,Nf3,d6,e4,Bg7,Bd3,e6,c3,Ne7,Nbd2,Nd7,O-O,O-O,Re1,f6,Nf1,e5,dxe5,Nxe5,Nxe5,fxe5,Ne3,c6,h3,Be6,Ng4,d5,Nh6+,Kh8,Bg5,Bxh6,Bxh6,Rf7,exd5,Bxd5,Rxe5,Qb6,Qd2,Nf5,Rae1,Nxh6,Qxh6', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/YMbOk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YmCRY', 'Bullet', 'cndk521', 2030, 'Qalibri', 2018, 'e4,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Bc4,Be6,Bxe6,fxe6,Bg5+,Nf6,Nc3,c6,O-O-O+,Kc7,Nf3,Nbd7,Rd2,b5,a3,a5,Rhd1,Rd8,Nxe5,Nxe5,Rxd8,b4,axb4,axb4,Bxf6,gxf6,f4,bxc3,fxe5', 'Bh6+,Kb1,Rxd8,Rxd8,Kxd8', 'https://lichess.org/training/YmCRY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YMdxf', 'Rapid', 'conmaster', 1902, 'Bazylozaur', 1926, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,Nxe4,d5,Bc5,dxc6,Nxf2,Qe2,Nxh1,Qb5,Bb6,Qxe5+,Qe7,Qxe7+,Kxe7,Bg5+,f6,cxb7,Bxb7,Bh4,Bxf3,gxf3,g5,Bg3,Nxg3,hxg3,Rhe8,Bd3,h6,Na3,d5,O-O-O,a6,Rh1,Rh8,Nc2,c5,Ne3,Kd6,Nf5+,Kc6,Re1,Rhe8,Rxe8,Rxe8,Bxa6,c4,a4,Bf2', 'Bb5+,Kb6,Bxe8', 'https://lichess.org/training/YMdxf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ymEAA', 'Rapid', 'TheMadCatter', 1677, 'Cole05', 2058, 'e4,c5,d4,cxd4,c3,d3,c4,Nc6,Bxd3,d6,Nc3,g6,Nf3,Bg7,O-O,Nf6,Re1,Bg4,h3,Bxf3,Qxf3,Ne5,Qe2,O-O,Bf4,Nfd7,Be3,a6,f4,Nxd3,Qxd3,Rc8,Rac1,Nc5,Bxc5,Rxc5,b3,Qa5,Nd5,e6,Ne7+,Kh8,Red1,Rd8,e5,d5,cxd5,Rxc1,Rxc1,exd5,Nxd5,Kg8,Rd1,Qc5+,Qd4', 'Rxd5,Qxc5,Rxc5', 'https://lichess.org/training/ymEAA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ymEej', 'Blitz', 'Buryat-mongol', 1689, 'MarcL', 1682, 'd4,d5,Bf4,e6,Nf3,c5,e3,Nf6,c3,Bd6,Ne5,Nbd7,Nxf7,Kxf7,Bxd6,cxd4,exd4,Qb6,Ba3,Re8,Bd3,Kg8,O-O,e5,dxe5,Nxe5,Bc2,Nc4,b3,Nxa3,Nxa3,Bg4,Qd3,Re5,c4,Rh5,Nb5,a6,Nc3,Qd6,g3,Bh3,Rfe1,Ng4,Ne4,Qc7,cxd5,Rf8,Re2,Bf1,Rxf1,Rxh2,d6,Qf7,Ng5,Rh1+,Kxh1', 'Qh5+,Nh3,Qxh3+,Kg1,Qh2#', 'https://lichess.org/training/ymEej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YMERF', 'Rapid', 'cezar23', 1723, 'natogomes', 1609, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,Nh5,Ng5,d5,exd6,Ne5,Qxh5,g6,Qe2,Bxd6,Nxf7,Qf6,Nxh8,Qxh8,f4,Bg4,Qe4,Bf5,Qxd4', 'Nf3+,gxf3,Qxd4', 'https://lichess.org/training/YMERF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yMexU', 'Rapid', 'kaszkiet_belgijski', 1874, 'Frogman35', 1811, 'e4,c5,d4,cxd4,c3,e5,cxd4,exd4,Nf3,d5,exd5,Qxd5,Nxd4,Nf6,Nc3,Bb4,Qa4+,Nc6,Nxc6,Bxc3+,bxc3,bxc6,Bc4,Qe4+,Be3,O-O,O-O,Bd7,Rfe1,Rfe8,Bd2,Qg6,Rab1,Bh3,g3,Reb8,Qxc6,h6,Rxb8+,Rxb8,Qc7,Rb1,Qd8+,Kh7,Bd3,Rxe1+,Bxe1,Bf5,Bxf5,Qxf5,Qc7,Qb1,Qe5,Qxa2,Qf5+,Kg8,Qc8+,Ne8,Qxe8+,Kh7,Qe4+,g6,Kg2,a5,Bd2,Qxd2,Qc6,Qd8,Qb5,Qa8+,f3,a4,Qb1,a3,Qa2,Kg7,Kf2,f5,Ke3,Kf6,Kd4,Qxf3,Qxa3', 'Qe4+,Kc5,Qe7+,Kc6,Qxa3', 'https://lichess.org/training/yMexU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yMfWc', 'Blitz', 'IM straybullet', 2404, 'FM Krestoman', 2392, 'd4,Nf6,c4,g6,Nf3,d5,Nc3,Bg7,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,O-O,Be3,cxd4,cxd4,Nf6,Qd3,Rc8,Rab1,b6,d5,Qd7,Ne5,Qa4,Nc6,Rfe8,Bd4,Rxc6,dxc6,Qxc6,Bxf6,Bxf6,Rfc1,Qa4,Rc4,Qxa2,Rbc1,Kg7,f4,e5,f5,Rd8,Qf3,Bg5,fxg6,hxg6,R4c2,Qe6,Rc6,Qd7,Rc7,Qd4+,Kf1,Bf4,g3,Bxc1', 'Qxf7+,Kh6,Qh7+,Kg5,Qh4#', 'https://lichess.org/training/yMfWc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YmGcf', 'Bullet', 'xavi1837', 1761, 'Darksminimo_12', 1742, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Bxf2+,Kxf2,Nxe5,d4,Ng6,Qf3,N8e7,Bc4,O-O,Rf1,c6,Kg1,b5,Bxf7+,Kh8,e5,b4,Ne4,Nd5,Qh5,Nge7,Bg5,Qb6,Rad1,Ba6,Rf3,Be2,Qxh7+,Kxh7', 'Rh3+,Bh5,Rxh5#', 'https://lichess.org/training/YmGcf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YmhUZ', 'Rapid', 'sadesgo02', 1639, 'Narengomez', 1746, 'Nf3,e6,e4,d5,exd5,exd5,d4,c6,Bd3,Bd6,Bg5,Ne7,O-O,Bg4,Re1,O-O,h3,Bh5,g4,Bg6,Ne5,Qc7,Bxe7,Bxe7,Nxg6,fxg6,Nd2,Rxf2,Kxf2,Qh2+,Kf1,Qh1+,Ke2', 'Qg2+,Ke3,Bg5#', 'https://lichess.org/training/YmhUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YmIXZ', 'Classical', 'mroodschild', 1697, 'Nietzchess1', 1656, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e5,Nf5,Nf6,Bg5,Be7,Nd6+,Bxd6,Qxd6,Nxe4', 'Qxe5+,Kf8,Bxd8', 'https://lichess.org/training/YmIXZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ymlMb', 'Rapid', 'EdilsonPery', 1853, 'LumpDD', 1772, 'd4,d5,e3,Nc6,Nd2,Bf5,c3,Nf6,h3,e5,a3,exd4,cxd4,Bd6,f4,Ne4,Nxe4,Bxe4,Qg4,O-O,Bd2,f5,Qd1,Re8,Kf2,Qh4+,g3,Qd8,Bg2,Re6,Bxe4,fxe4,h4,Rh6,Bc3,Ne7,Qb3,b6,Ne2,c6,Bd2,Nf5,Rag1,Be7,Nc3,a5,Nxe4,a4,Qa2,Kh8,Ng5,Bxg5,hxg5,Re6,Qb1,Qf8,g4,Re4,gxf5,Qxf5,Rg3,g6,Rgh3,Ra7,R1h2', 'Rxf4+,exf4,Qxb1', 'https://lichess.org/training/ymlMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ymnKu', 'Rapid', 'eddy-torial', 1638, 'luluc04', 1776, 'd4,d5,c4,Nf6,Nc3,c6,Nf3,g6,Bg5,Bg7,e3,Nbd7,Bd3,O-O,O-O,Re8,Re1,Qb6,Qc2,dxc4,Bxc4,Nd5,Nxd5,cxd5,Bxd5,Nf6,Ne5,Nxd5,Qa4,Be6,Nd7,Bxd7,Qxd7,e6,b3,Rac8,Rac1,Rxc1', 'Qxe8+,Bf8,Rxc1', 'https://lichess.org/training/ymnKu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yMnqh', 'Rapid', 'SebahattinYeler', 1748, 'Subhanshu', 1766, 'e4,e5,Nf3,Nc6,h3,Nf6,Bc4,Bc5,Nc3,O-O,O-O,d6,Nd5,Nxd5,Bxd5,Nb4,Bb3,a5,a4,Bd7,c3,Nd3,Bc2,Nxc1,Rxc1,f5,d4,exd4,cxd4,Bb6,e5,dxe5,Nxe5,Be6,Qh5,Bxd4,Nf3,Bxb2', 'Ng5,h6,Nxe6', 'https://lichess.org/training/yMnqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ymNze', 'Blitz', 'hachero63', 2294, 'Konevoyazher', 2199, 'e4,e5,Nf3,Nf6,d3,Nc6,Be2,Bc5,O-O,d6,h3,h6,c3,Bb6,Be3,O-O,Nbd2,d5,Bxb6,axb6,a3,Be6,b4,dxe4,dxe4,Nh7,b5,Na5,Nxe5,Qf6,f4,Rad8,Qc2,Rxd2,Qxd2,Nb3,Qe3,Nxa1,Rxa1,Rd8,Rf1,Qe7,c4,Nf6,Bf3,Ra8,f5,Rxa3,Qd4,Bc8,Ng4,Nxg4,Bxg4,f6,Rd1,Ra8,Kh1,g6,Qd5+,Kg7,fxg6,Bxg4,hxg4,Re8,Qxb7,Qxe4,Rd7+,Kxg6,Qxc7,Qe1+,Kh2,Qh4+,Kg1,Qe1+,Kh2', 'Qh4+,Kg1,Re1#', 'https://lichess.org/training/ymNze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yMoU4', 'Rapid', 'Zag0Rhr', 2098, 'AAS56', 2095, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,Be2,Nge7,Nh4,d4,O-O,Nd5,Qe1,Be7,Nf3,Nxf4,Nxd4,Nxe2+,Nxe2,Nxe5,d3,O-O,Bf4,Nc6,Nbc3,a6,Ne4,b6,Qg3,Kh8,Bc7,Qd7,Bxb6,Rb8,Ba5,Rxb2', 'Bc3,e5,Bxb2', 'https://lichess.org/training/yMoU4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yMpBF', 'Rapid', 'farshad2747', 1683, 'Djalel', 1734, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nf5,Nbd7,O-O,Be7,Nxg7+,Kf8,Bh6,Kg8,Nd5,Bf8,Nxf6+', 'Qxf6,Nf5,Bxh6', 'https://lichess.org/training/yMpBF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YMPFo', 'Classical', 'Boro-i-Ramiz', 1876, 'avas', 1925, 'd4,Nf6,e3,d6,Bd3,g6,h3,Bg7,Nf3,Nbd7,Nbd2,c5,c3,Qc7,Ne4,b6,Nxf6+,exf6,Be4,Rb8,Bd5,O-O,h4,f5,h5,Nf6,Bb3,Nxh5,Rxh5,gxh5,Ng5,Bh6,Qxh5,Bxg5', 'Qxg5+,Kh8,Qf6+', 'https://lichess.org/training/YMPFo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ymPOR', 'Rapid', 'Malikplayschess', 1775, 'FX-khaled', 1773, 'e4,d6,d4,Nf6,Bd3,g6,c4,Bg7,Nc3,O-O,Nge2,h6,O-O,Nbd7,Be3,a6,Ng3,Rb8,Qd2,Kh7,a4,Ng4,a5,Nxe3,fxe3,e6,Rf3,Qg5,d5,Ne5,Rf2,Ng4,Rf4,Be5,Rf3,Bd4,Re1,Bg7,Ref1,f6,e5,Nxe5,Nge4,Nxf3+,Rxf3,Qg4,Qf2,e5,Nxf6+,Rxf6,Rxf6,Bxf6,Qxf6,Bf5,e4,Bd7,h3,Qg5,Qf7+,Kh8,Qxd7,Qc1+,Kh2,Rf8,Ne2,Qd2,Qe7,Kg8,Qe6+,Kg7,Qe7+,Rf7,Qh4,Qxd3,Ng3,g5,Nh5+,Kg6,Qg4,Re7,Qf5+,Kxh5', 'g4+,Kh4,Qf2+,Qg3+,Qxg3#', 'https://lichess.org/training/ymPOR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YMrFn', 'Rapid', 'SuperRuddy', 2348, 'preit', 2318, 'd4,e5,dxe5,Nc6,Nf3,d6,exd6,Bxd6,Nc3,Bg4,Nb5,Bb4+,Bd2,Qe7,a3,Bc5,Bg5,f6,Bf4,Ne5,Nxe5,fxe5,Bg3,Nf6,Qd3,Rd8,Qc4,c6,Nc3,Be6,Qh4,Bf5,Qg5,Bxc2,Qxe5', 'Bxf2+,Kxf2,Ng4+,Kg1,Nxe5', 'https://lichess.org/training/YMrFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ymrku', 'Rapid', 'anri753', 2171, 'TongtongHasibuan', 1797, 'f4,e5,e4,d5,exd5,e4,Nc3,f5,d3,Nf6,dxe4,fxe4,Bb5+,Bd7,Bxd7+,Nbxd7,Be3,Bb4,Ne2,O-O,O-O,Ng4,Qd4,Ba5,Na4,b5,b4,Bb6,Nxb6,Nxb6,Rad1,Nc4,Bc1,e3,h3,Nf2,Rde1,Qh4,Bxe3,Nxh3+,gxh3,Qxh3,Bf2,Rf6,Ng3', 'Rh6,Re8+,Rxe8', 'https://lichess.org/training/ymrku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YmrMO', 'Classical', 'janavuckovic', 2096, 'raaf131296', 1717, 'c4,c5,Nc3,Nc6,g3,e6,Bg2,g6,e3,Bg7,Nge2,Nge7,O-O,d5,cxd5,exd5,d4,cxd4,Nxd4,O-O,Nce2,Bg4,f3,Bc8,b3,a6,Bb2,Re8,Qd2,Nxd4,Nxd4,Nf5,Nxf5,Bxf5,Bxg7,Kxg7,Qd4+,Kg8,g4,Be6,Rfd1,Qg5,h3,Rac8,f4,Qh4,Rac1,Red8,Qe5,Qg3,Qd4,h5,f5,Bd7,fxg6,fxg6,Qxd5+,Kh7,Rxc8,Qxe3+,Kh1,Bc6,Qf7+,Kh6,Rcxd8', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/YmrMO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YMS8N', 'Rapid', 'Nick1ta', 1754, 'Omega76', 1821, 'e3,d5,b3,c5,Bb2,Bf5,Na3,e6,Qf3,Nc6,Bb5,Nf6,g4,Be4,Bxf6,gxf6,Qg3,Bxh1,d3,Bd6,f4,Qc7,O-O-O,d4,Ne2,dxe3,Rxh1,Bxf4,Nxf4,a6,Bxc6+,Qxc6,Re1,Rg8,Nh5,Rg6,Rxe3,O-O-O,Nc4,e5,Qf3,Qxf3,Rxf3,Rxg4,Nxf6,Rg2,Rh3,b5,Nxe5,Rd6,Ne4,Rd5,Nc6,Kb7,Ne7,Re5,Re3,Kc7,Nf6,Rxe3,Ned5+,Kd6,Nxe3,Rxh2,Ne4+,Kc6,a3,Re2,Nd1,f5,Nec3,Rh2,Ne3,f4,Ng4,Rh1+,Kb2,f3,Ne5+,Kd6,Nxf3,h5,Ne4+,Kc6,Ne5+,Kb6,Nd7+,Kc6,Ndxc5,h4,Ne6,h3,N6g5,h2,Nf3', 'Rb1+,Kxb1,h1=Q+,Ka2,Qxf3', 'https://lichess.org/training/YMS8N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YmSiC', 'Rapid', 'dominant1', 2089, 'revla', 1951, 'e4,d5,d4,dxe4,Nc3,Bf5,f3,exf3,Nxf3,e6,Bc4,Nc6,O-O,Bb4,d5,Bxc3,bxc3,exd5,Bxd5,Nge7,c4,O-O,Ng5,Nxd5,cxd5,Ne7,Ba3,Bg6,Qe2,Re8,Rae1,Nxd5,Qg4,Ne3,Rxe3,Rxe3,Bc5,Re8,Qf4,b6,Nxf7,Bxf7,Qxf7+,Kh8,Ba3,c5,Bb2,Rg8,h3,Qe8,Qd5,Rd8,Qg5,Qg6,Qe5,Qxc2,Rf7,Rd2', 'Qxg7+,Rxg7,Rf8#', 'https://lichess.org/training/YmSiC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YmTpS', 'Rapid', 'FromVirgoCluster', 1799, 'AnTiKoR', 1758, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,g6,Nc3,e6,f4,Bg7,Nf3,Nge7,Be3,O-O,Be2,d5,e5,a6,a4,Bd7,g4,Qc7,h4,Rac8,h5,Rfd8,hxg6,fxg6,Ng5,h6,Nf3,Nb4,Qd2,Nbc6,Bd3,Na5,Qc2,Nc4,Bd2,Be8,Ke2,Nxd2,Qxd2,Nc6,Rh4,Na5,Bc2,Nc4,Qc1,Qf7,b3,Nb6,Qb2,Qc7,Kd2,Qf7,g5,h5,Rc1,Rd7,Bd3,Rdc7,Ng1,Rc6,Nge2,Qc7,b4,Nc4+,Bxc4,Rxc4,Ke3,b5,a5,Bf7,Rhh1,Qe7,Ng3,Rxb4', 'Nxd5,exd5,Rxc8+', 'https://lichess.org/training/YmTpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YmuUH', 'Rapid', 'Chiragpatel', 1816, 'ArGen1963', 1782, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,c4,e6,Nc3,Bb4,Bd2,Nc6,Qa4,Bd7,cxd5,Nxd5,Bb5,O-O,O-O,a6,Bxc6,Bxc6,Qb3,Qb6', 'Nxd5,Bxd5,Qxb4,Qxb4,Bxb4', 'https://lichess.org/training/YmuUH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YMVlA', 'Blitz', 'Petertromso', 1745, 'Andrey0208_1982', 1784, 'e4,e6,Bc4,Ne7,a3,c6,d3,a6,Bg5,f6,Bh4,Ng6,Bg3,Bc5,b4,Ba7,Ne2,d5,exd5,cxd5,Ba2,O-O,O-O,b5,c4,bxc4,dxc4,d4,c5,Kh8,Nxd4,Qe7,Qf3,e5,Qxa8,exd4,Bxb8,Bf5,Qxa7,Qe2,Bd6,Re8,Qf7', 'Qxf1+,Kxf1,Bd3+,Kg1,Re1#', 'https://lichess.org/training/YMVlA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yMXWw', 'Rapid', 'CarbonDated', 1771, 'corazonkabu', 1982, 'e4,e5,d4,exd4,Nf3,c6,Nxd4,Bc5,Nc3,d6,Be2,Nf6,O-O,Qb6,Be3,Qc7,f4,Na6,a3,Bd7,Nf5,Bxf5,Bxc5,Nxc5,exf5,O-O-O,Bf3,d5,Qd2,Nce4,Qe3,Nxc3,bxc3,Kb8,Rab1,Rhe8,Qc5,Rd7,g3,Qd6,Qa5,Ne4,Bxe4,Rxe4,Rb4,c5,Rxe4,dxe4,Qb5,Rd8,Rb1,b6,a4,e3,a5,e2,Qxe2,Qd2,Qe5+,Kb7,axb6,axb6,Qe7+,Rd7,Qxc5', 'Qd1+,Rxd1,Rxd1+,Kg2,bxc5', 'https://lichess.org/training/yMXWw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YmzBU', 'Rapid', 'Timi72', 1683, 'krzysiekstasilas', 1687, 'Nc3,d5,d4,Nc6,e3,e5,f3,Bb4,Ne2,exd4,exd4,Nf6,Bg5,O-O,Qd3,Re8,O-O-O,Qd6,Nb5,Qd8,Bxf6,gxf6,Nf4,a6,Nc3,f5,Ncxd5,Be6,Nxe6,fxe6,Nf4,Qg5,g3,Rad8,c3,Bd6,Qe3,e5,dxe5,Nxe5,Bd3', 'Nxd3+,Qxd3,Bxf4+,gxf4,Qxf4+,Kb1,Rxd3', 'https://lichess.org/training/YmzBU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yn1cN', 'Rapid', 'NM safikiet', 2438, 'yousefkasparov33', 2432, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,a3,c4,Nbd2,f6,g3,fxe5,Nxe5,Nxe5,dxe5,Bc5,Qe2,Nh6,Bh3,O-O,O-O,Bd7,Rb1,Nf7,b4,cxb3,Nxb3,Bb5,Qe1,Bxf1,Bxf1,Nxe5,Qxe5,Rxf2,Nxc5,Rxf1+,Kxf1,Qxb1,Qxe6+,Kh8,Qe1,Rf8+,Bf4', 'Qb5+,Kg2,Qxc5', 'https://lichess.org/training/yn1cN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yn1R8', 'Rapid', 'oladimeji101', 1784, 'hollebolle', 1911, 'e4,Nc6,Nf3,f5,exf5,d5,Be2,Bxf5,d4,e6,O-O,Nf6,Nc3,h6,Re1,Ne4,Bf4,Bb4,Bd2,O-O,a3,Bxc3,bxc3,Qf6,h3,Nxd2,Qxd2,Rae8,Bb5,Be4,Nh2,Qg6,Bf1,Bxc2,Ng4,h5,Ne5,Nxe5,Rxe5,Bf5,Rae1,Bxh3', 'Rg5,Qf6,gxh3', 'https://lichess.org/training/yn1R8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yn1Zz', 'Rapid', 'scarface2015', 1647, 'night_ow1', 1643, 'e4,c5,Nf3,g6,Bc4,Bg7,c3,e6,d4,cxd4,cxd4,h6,O-O,Ne7,Be3,O-O,Nc3,a6,a3,b5,Ba2,d6,Qd2,Kh7,Ne2,Nd7,Ng3,Nf6,e5,Ng4,Bf4,dxe5,Nxe5,Nxe5,Rfd1,N5c6,d5,Nxd5,Bxd5,exd5,Rac1,Na5,Qc2,Nc4,Nh5,Bf5,Qe2,Nxb2,Nxg7,Nxd1,Nxf5,gxf5,Rxd1,Qh4,Qe5,Qg4,Rd4,Rae8,f3,Qh5,Qxd5,Re1+,Kf2,Rfe8,Rd2,Qh4+,Bg3,Qf6,Bf4,Qb6+,Kg3,Rg8+,Kh3,Qg6,Bg3,Qh5+,Bh4,Rg4,fxg4', 'Qxg4#', 'https://lichess.org/training/yn1Zz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yn32C', 'Rapid', 'Champonn', 1741, 'Yugal1970', 1830, 'e4,d5,e5,Bf5,h3,e6,c3,c5,Nf3,Nc6,Bb5,Qb8,Qa4,Ne7,d4,c4,Bg5,Qc7,Bxe7,Bxe7,Bxc6+,bxc6,Nbd2,O-O,Qd1,a5,b3,cxb3,axb3,Rfb8,g4,Be4,Nxe4,dxe4,Nd2,c5,Nxe4,cxd4,cxd4,Qc6,Qf3,Rxb3', 'Nf6+,gxf6,Qxc6', 'https://lichess.org/training/Yn32C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YN38y', 'Rapid', 'avarec05', 1952, 'DiegoMartins9198', 1919, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,a6,Bd3,e6,Nge2,Be7,O-O,b5,Be3,Ng4,Bf4,Qb6,h3,Nf6,Be3,Qa5,a3,Bb7,b4,Qd8,Rc1,O-O,Qd2,Nbd7,f4,Rc8,Kh1,Nb6,f5,Nc4,Bxc4,Rxc4,d5,exd5,exd5,Qa8,Nf4,Rxc3,Rxc3,Ne4,Qc2,Nxc3,Qxc3,Bg5', 'Nh5,f6,Bxg5', 'https://lichess.org/training/YN38y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yn4N9', 'Blitz', 'javiercalbuco', 1522, 'Maksutkin', 1526, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,exd4,e5,Ne4,Re1,Nxf2,Kxf2,d3+,Be3,dxc2,Qxc2,Bxe3+,Rxe3,O-O,Nbd2,d6,Rd1,Nxe5,Nxe5,dxe5,Nf3,Qf6,Qe4,Re8,Kg1,Bf5,Qxb7,Rab8,Qxc7,Rxb2,Nxe5,Be6,Bxe6', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/yn4N9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yn5me', 'Blitz', 'MattBuckley', 2109, 'klaika', 2180, 'd4,c5,c3,e6,Nf3,Nf6,Bf4,Nc6,e3,b6,Nbd2,Bb7,Bd3,d5,O-O,Be7,Ne5,O-O,Qe2,Nxe5,Bxe5,Nd7,Bg3,f5,f3,Bf6,e4,cxd4,exf5,dxc3,fxe6,cxd2,exd7,Bxb2,Rab1,Bc1,Qe6+,Kh8,Be5,Qg5,f4,Qh6,g4,Qxe6,Bb5,Rad8,Kg2,Rxd7,Bxd7,Qxd7,Rbxc1,Qxg4+,Kf2,dxc1=Q,Rxc1,d4,Rc7,Qf3+,Ke1,Qe4+,Kd1,Rg8,Rd7,d3,Kd2,Qe2+,Kc3,Qc2+,Kb4,d2,f5,d1=Q,f6,Qde2', 'fxg7+,Rxg7,Rd8#', 'https://lichess.org/training/yn5me');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YN5nT', 'Rapid', 'a1raviteja', 1692, 'Hardisan', 1693, 'd4,d5,Nc3,Nf6,h3,Bf5,Nf3,e6,a3,c5,Bg5,cxd4,Nxd4,Bg6,e3,Be7,Bb5+,Nbd7,Qe2,a6,Bxd7+,Qxd7,Nf3,Ne4,Bxe7,Nxc3,bxc3,Qxe7,O-O,O-O,Ne5,Rfc8,c4,dxc4,Nxc4,Qc5,Nb2,Qxc2,Qxc2,Rxc2,Na4,b5,Nb6,Rb8,Nd7,Rbc8,Rad1,Ra2,Rd6,Rxa3,Rfd1,h6,Ne5,Be4,Rd7,f6,Ng4,Bd5,Rd4,Rc4,Rd2,b4,f3,b3,e4,Rc1+,Kh2,Rc2,Rd1,b2,exd5,exd5,R1xd5,b1=Q,Rd8+,Kf7,R8d7+,Kg6,h4,Raa2', 'h5+,Kh7,Nxf6+,Kh8,Rd8#', 'https://lichess.org/training/YN5nT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YN5pW', 'Rapid', 'edjord24', 1762, 'jlfl57', 1897, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,Qe2,O-O,O-O,Nxc3,bxc3,Bxc3,Rb1,Nxd4,Nxd4,Bxd4,Qd3,Bb6,Ba4,d6,Bc2,f5,Qd5+,Kh8,Bb2,c6,Qf3,Qg5,Bc1,f4,Bb3,Bg4,Qc3,d5,Ba3,Rfe8,g3,f3,Bc1,Qh5,Bb2,Re7,Rfe1,Rae8,Rxe7,Rxe7,Re1,Qh3', 'Qxg7+,Rxg7,Re8#', 'https://lichess.org/training/YN5pW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yN6QO', 'Classical', 'rodrigo_luis', 1951, 'geartwo', 2029, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d5,Nbd2,c6,c4,e6,b3,Nbd7,Ba3,Re8,Ne5,Nxe5,dxe5,Ng4,Bb2,Nxe5,Bxe5,Bxe5,cxd5,Bxa1,Qxa1,exd5,e4,dxe4,Nxe4,Re6,Rd1,Qe7,Nc5,Re2,Ne4,Bf5,Nf6+,Kh8,Be4,Bxe4', 'Nd5+,f6,Nxe7', 'https://lichess.org/training/yN6QO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yn7xx', 'Blitz', 'samvel73', 1572, 'TOFGAR', 1560, 'e4,e5,Nc3,d6,h3,Nf6,Bc4,h6,Nf3,c5,a3,Bd7,d3,a6,Be3,b5,Ba2,Nc6,Nd5,Rb8,Nxf6+,Qxf6,Qd2,g5,O-O-O,a5,Nh2,b4,axb4,cxb4,Ng4,Qe7,g3,a4,f4,gxf4,gxf4,b3,cxb3,axb3,Bb1,Rc8,Rdg1,Nd4+,Kd1,Nf3,Qf2,Nxg1,Rxg1,h5,Nh2,Bxh3,f5,Bh6,Bxh6,Rxh6', 'Rg8+,Kd7,Qa7+,Rc7,Qa4+', 'https://lichess.org/training/yn7xx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yn8S0', 'Rapid', 'One_Nation12', 1777, 'jacintojalmeida', 1748, 'e4,c5,c3,d6,d4,cxd4,cxd4,a6,Bc4,e6,Ne2,Be7,O-O,Nf6,Nbc3,Nc6,Ng3,Bd7,a4,Nb4,Bg5,d5,exd5,Nfxd5,Bxe7,Qxe7,Nxd5,Nxd5,Bxd5,exd5,Re1,Be6,Nf5,Qf6,Nd6+,Ke7,Nxb7,Rab8,Nc5,Rxb2,Rf1,Rc8,Rb1,Rxb1,Qxb1,Qxd4,Qb7+,Kf8', 'Nxe6+,fxe6,Qxc8+', 'https://lichess.org/training/Yn8S0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yn9ew', 'Classical', 'Jaroslav123', 1791, 'gabanich', 1630, 'e4,e6,d4,d5,Nd2,c5,c3,Nc6,Ngf3,Be7,Bb5,a6,exd5,exd5,Bxc6+,bxc6,O-O,cxd4,cxd4,c5,dxc5,Bxc5,Nb3,Bd6,Re1+,Ne7,Qxd5', 'Bxh2+,Nxh2,Qxd5', 'https://lichess.org/training/yn9ew');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yn9qm', 'Rapid', 'BerryK', 1921, 'chess2020a', 2025, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c5,e3,Nc6,cxd5,exd5,Bd3,cxd4,exd4,Be6,O-O,Bd6,Bg5,Rc8,Re1,O-O,a3,Be7,Qc2,h6,Bh4,Qb6,Rad1,Kh8,Bf1,Rfd8,Qe2,Na5,Na4,Qb3,Nc5,Bxc5,dxc5,Rxc5,Bxf6,gxf6,Nd2,Qxb2,Qh5,Kg7,Re3,d4,Rg3+,Rg5,Rxg5+,fxg5,h4,Rd5,hxg5,Rxg5,Qe2,Bf5,Qe5+,Kg6,Qxa5,Bg4,Bd3+,Kg7,Qb4', 'Qxb4,axb4,Bxd1', 'https://lichess.org/training/yn9qm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ynB9U', 'Rapid', 'Kaziornob', 1659, 'iamthshuvo', 1760, 'e4,e5,Bc4,Nf6,d3,Bc5,Bg5,O-O,Qf3,Be7,Nc3,d6,Bxf6,Bxf6,h3,Be6,Bxe6,fxe6,O-O-O,d5,exd5', 'Bg5+,Kb1,Rxf3', 'https://lichess.org/training/ynB9U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YNBgG', 'Classical', 'Longshanks', 1771, 'gannor', 1734, 'e4,e5,Nf3,Nc6,Bc4,g6,d4,exd4,Nxd4,Bg7,Be3,Nf6,Nc3,O-O,h4,Na5,Bd3,c5,Nde2,b6,Nf4,Re8,h5,Bb7,f3,a6,hxg6,fxg6,Qd2,c4,Be2,b5,g4,Nc6,g5,Nxe4,Nxe4,Bxb2,Nf6+,Bxf6,gxf6,Qxf6,Kf2,Ne5,Nd5,Bxd5,Qxd5+,Re6,Qxa8+,Kg7,Bd4,Ng4+,Kg3,Qxd4,Rxh7+', 'Kxh7,Rh1+,Nh6', 'https://lichess.org/training/YNBgG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YNbhM', 'Rapid', 'David_I_A', 1802, 'Yahiadz', 1626, 'e4,Nc6,f4,d6,Bb5,Bd7,Nc3,a6,Ba4,b5,Bb3,Nf6,d3,Na5,Nf3,Nxb3,axb3,Bc6,O-O,e5,fxe5,dxe5,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/YNbhM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YNBW4', 'Blitz', 'jolexionary', 1610, 'MertYlmaz', 1671, 'e4,c5,Bc4,Nc6,Qf3,e6,Ne2,Ne5,Qb3,Nxc4,Qxc4,d6,O-O,Bd7,Nbc3,Nf6,d4,cxd4,Qxd4,Be7,f4,Qc7,Be3,O-O,Rad1,a6,e5,dxe5,fxe5,Nd5,Nxd5,exd5,c4,Be6,cxd5,Rfd8,d6,Qa5,Qf4,Bf8,Nd4,Rac8,Nxe6,fxe6,Qf7+,Kh8,Qxe6,Rc2,d7,Bc5,Bxc5,Qxc5+,Kh1,h6,Qe8+,Rxe8,dxe8=Q+,Kh7,e6,Qg5,Rg1,Rc4,e7,Rh4,Qf7', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/YNBW4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yNCu3', 'Blitz', 'olomoucak', 2336, 'Colorok', 2168, 'd4,d5,Nf3,Nf6,c4,dxc4,e3,e6,Bxc4,c5,O-O,Nc6,Qe2,a6,a4,b6,Rd1,Qc7,Nc3,Bb7,d5,exd5,Nxd5,Nxd5,Bxd5,Be7,e4,O-O,Bg5,Bxg5,Nxg5,h6,Nf3,Na5,Bxb7,Nxb7,Rd5,Rad8,Qxa6,Rxd5,exd5,Re8,Rd1,Nd6,b3,Re4,g3,c4,bxc4,Rxc4,Ne5,Rc1,Qd3,Rxd1+,Qxd1,Qc3,f4,Ne4,d6,Qe3+,Kg2,Qf2+,Kh3,Qa2,d7,Nf2+,Kh4,Nxd1,d8=Q+,Kh7,Qd3+,g6,Qxd1', 'Qxh2+,Kg4,Qh5#', 'https://lichess.org/training/yNCu3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yncxS', 'Rapid', 'king-2020', 1925, 'Stjarndamm', 1955, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Nxc3,h6,Qb3,d5,Bxd5,Qe7,O-O,Nf6,Re1,O-O,Bc4,Na5,Qb5,Nxc4,Qxc4,Bg4', 'Nd5,Bxf2+,Kxf2', 'https://lichess.org/training/yncxS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ynf4C', 'Rapid', 'beasteduh', 1795, 'derwisch', 2088, 'c4,Nf6,Nf3,e6,g3,g6,b3,b6,Bg2,Bb7,Bb2,Bg7,g4,Nc6,h4,Qe7,Ba3,d6,g5,Nh5,Nc3,Nf4,Bh3,Nxh3,Rxh3,h6,e3,e5,Nd5,Qd7,Rh2,Ne7,e4,hxg5,Nxg5,Nxd5,cxd5,Bf6,Nf3,Qg4,Rc1,Rc8,Qe2,Bxh4,Qb5+,c6,dxc6,Bxc6,Qd3,d5,Nxe5', 'Qg1+,Ke2,Qxh2', 'https://lichess.org/training/ynf4C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YNFoa', 'Blitz', 'Korvin07', 1933, 'Pukanius-Bombilius', 1914, 'e4,c5,d3,Nc6,Be3,d6,f4,f5,Nc3,Nf6,e5,dxe5,fxe5,Nxe5,Bxc5,a6,Nf3,Nc6,d4,b6,Ba3,b5,b3,b4,Bxb4,Nxb4,a3,Nbd5,Qd2,e6,O-O-O,Bxa3+,Kb1,Qa5,Na2,Bb4,c3,Bxc3,Nxc3,Nxc3+,Kc2,Nfe4,Qe1,Qc7,Ra1,O-O,Bc4,Bd7,Ne5,Bb5,Bxe6+,Kh8', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/YNFoa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yNg0L', 'Blitz', 'VrumVrum', 1537, 'Sporoisporoi2', 1560, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nf6,O-O,O-O,d3,d5,exd5,Na5,Bg5,Nxc4,dxc4,Re8,Ne4,Be7,Bxf6,Bxf6,Nxf6+,Qxf6,Re1,Bg4,h3,Bh5,Re4,Bxf3,Qxf3,Qb6,b3,f6,Qe3,Qd6,f4,Qe7,Re1,Qa3,fxe5,fxe5,Rxe5,Rxe5,Qxe5,Rf8,Qe6+,Kh8,Rf1,Qc5+,Kh2,h6,Rxf8+,Qxf8,Qd7,Qf4+,Kh1,Qc1+,Kh2,Qf4+,Kg1,Qe3+,Kf1,Qc1+,Kf2,Qxc2+,Kf3,Qd3+,Kg4,Qg6+,Kf3,Qd3+,Kf4,Qd4+,Kf5,Qf2+,Kg6', 'Qf6+,Kh5,Qg5#', 'https://lichess.org/training/yNg0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YNhHS', 'Rapid', 'Vvaalemotional', 1897, 'GavinMcClanahan', 2172, 'd4,d5,Bf4,Nf6,e3,c5,c3,Nc6,Bd3,Bg4,Ne2,e6,h3,Bh5,g4,Bg6,Bxg6,hxg6,Ng3,Bd6,Bxd6,Qxd6,Nd2,e5,dxc5,Qxc5,Qb3,O-O,O-O,d4,exd4,exd4,c4,Qg5,Nde4,Nxe4,Nxe4,Qf4,Rfe1,Ne5,Kg2,Rae8,Nd6,Re6,Re4,Qf6,Qg3,Rxd6,Rxe5,Rd7,Rd1,Qc6+,Rd5,Rxd5,cxd5,Qxd5+,Qf3,Rd8,Qxd5,Rxd5,Kf3,f5,Ke2,Kf7,Kd3,b5,Rc1,fxg4,hxg4,Rd7,Rc5,a6,Rc6,a5,Ra6,a4,Rb6,Rd5,Ke4,Rd7,Rxb5', 'd3,Rd5,Rxd5', 'https://lichess.org/training/YNhHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ynhJH', 'Rapid', 'Mmbt', 1714, 'DerekSmalls', 1672, 'd4,Nf6,c4,e5,dxe5,Ng4,f4,d6,Nf3,Be7,h3', 'Bh4+,Nxh4,Qxh4+', 'https://lichess.org/training/ynhJH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ynIBM', 'Blitz', 'NM Quaritch79', 2479, 'Schacher101', 2561, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Bb5,Qa5,Bxc6,bxc6,O-O,cxd4,Nxd4,c5,Nf3,Ba6,Re1,g6,Bd2,Qc7,Rb1,Rb8,Kh1,Be7,h3,Qc6,Ne2,d4,Ng3,Bb7,c3,d3,c4,Nb6,b3,Rd8,Bc3,h5,Re3,a5,Rxd3,Rxd3,Qxd3,h4,Nf1,O-O,Bxa5,Ra8,Bxb6,Qxb6,a4,Rd8,Qe2,Qc6,Ne3,Qe4,Rf1,Qxf4,Ng4,Qg3,Kg1,Bc6,Nf6+,Kg7,Ne4,Qf4,Nfg5,Bxg5,Rxf4,Bxf4,Nd6,f6,exf6+,Kxf6,Ne4+,Bxe4,Qxe4,Bg3,Qf3+,Ke7,Qb7+,Rd7,Qf3,Rd2,Kf1,Rb2,Qd3,Rf2+,Ke1', 'Rf3+,Ke2,Rxd3', 'https://lichess.org/training/ynIBM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YNIqT', 'Classical', 'Ayzev', 1710, 'EhsanDadashvand', 1792, 'e4,c6,d4,d5,e5,Bf5,Nf3,Nd7,c4,Nb6,cxd5,Nxd5,Nc3,e6,Be2,Bb4,Bd2,Nge7,O-O,c5,dxc5,Bxc5,Bb5+,Nc6,Nxd5,Qxd5,Bc3,Be4,Qxd5,Bxd5,b4,Be7,Nd4,O-O,Nxc6,Bxc6,Bxc6,bxc6,Rfd1,Rab8,a3,Rfd8,Rd2,Rd5,f4,c5,Rxd5,exd5,f5,c4,Rd1,Rd8,Bd4,a6,Bb6,Rd7,Bc5,Bxc5+,bxc5,d4', 'c6,Rc7,Rxd4', 'https://lichess.org/training/YNIqT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YnJG6', 'Blitz', 'adamschmalhofer', 2240, 'Spirits', 2369, 'd4,Nf6,c4,g6,f3,Nc6,e4,e5,Ne2,Bb4+,Nbc3,exd4,Nxd4,Bxc3+,bxc3,O-O,Bd3,Ne5,O-O,d6,Bg5,Kg7,Qd2,Nxd3,Bh6+,Kg8,Bxf8,Qxf8,Qxd3,Nd7,Qe2,b6,Nb5,Qd8,Rfd1,Bb7,a4,a6,Nd4,a5,Nb5,Nc5,Qf2,Qe7,Qg3,Re8,Qf4,Kg7,Nd4,f6,Nc2,Qe6,Ne3,Ba6,Nd5,Qf7,Nxb6,cxb6,Rxd6,Re6,Rad1,Bxc4,Qe3,Bb3,R1d4,Bxa4,c4,Qe7,Rd8,Bd7,Rb8,Rd6,Qd2,Rxd4,Qxd4,Qe6,Ra8,Kh6,Ra7,a4,h4,Qc6,Qe3+,Kg7,e5,fxe5,Qxe5+,Qf6,Qd5,Qf7,Qd4+,Kh6,Rxd7,Qxd7,Qb2,g5', 'Qf6+,Kh5,Qxg5#', 'https://lichess.org/training/YnJG6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YnjhM', 'Rapid', 'derneposeda23', 1569, 'v4eCTR', 1543, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,h6,a3,a6,h3,b5,Be2,Nf6,b4,Bb6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,c3,Bb7,Qc2,e4,Ne1,O-O,c4,bxc4,Qxc4,Qxc4,Bxc4,Rad8,d3,Ne5,a4,Nxc4,dxc4,c5,a5,Ba7,Be3,Rc8,b5,axb5,cxb5,Bb8,b6,Be5,Ra3,Ba6,b7,Bxb7,Kh1,Ra8,Bxc5,Rfc8,Bb4,Rc6,f3,exf3,Rfxf3,Bd6,Bxd6,Rxd6,Rfd3,Rda6,Rd7,Be4,Re7,Bg6,Re5,f6,Rc5,Re6,Nf3,Kf7,Nh4,Re4', 'Rc7+,Re7,Rxe7+,Kxe7,Nxg6+', 'https://lichess.org/training/YnjhM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ynk5e', 'Rapid', 'danchiara', 1767, 'epha', 1737, 'd4,c6,e4,d5,e5,Bf5,f4,e6,Nf3,h5,Bd3,Nh6,O-O,c5,c3,Bg4,Be3,a6,Nbd2,g6,Qe1,Bg7,Ng5,c4,Bc2,Nc6,Ba4,O-O,Ndf3,b5,Bc2,a5,h3,Bf5,Bxf5,Nxf5,Bf2,b4,Nh4,a4,Nxf5,exf5,Bh4,Qb6,e6,Rae8', 'exf7+,Rxf7,Qxe8+', 'https://lichess.org/training/ynk5e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ynKSg', 'Rapid', 'FAM', 1872, 'VanSaanenMarius', 1757, 'e4,c5,Nf3,Nc6,Bc4,a6,a4,e6,Nc3,Nge7,O-O,d5,exd5,exd5,Ba2,Bg4,d3,Nd4,Be3,Nxf3+,gxf3,Bh3,Re1,d4,Ne4,dxe3,fxe3,Bf5,Nxc5,Nc6,e4,Bh3,Nxb7,Qg5+,Kf2,Rb8,Bd5,Qg2+,Ke3,Nb4,Kd4,Nxc2+,Kc3,Nxe1,Qxe1,Qxf3,Qh4,Qf6+,Qxf6,gxf6,Rg1,Bd7,d4,Rc8+,Kd3,Be6,Re1,Bg7,Nd6+,Kd7,Nxc8,Rxc8,Rg1,Bxd5,Rxg7,Bc4+,Ke3,Ke6,Rxh7,Bb3,d5+,Ke7,h4,Rc2,Rh8,Bxa4,Ra8,Bb5,Ra7+,Kd6,Rxf7,Rxb2,Rxf6+,Ke7,Re6+,Kf7,Rb6,Rh2,e5,Rxh4,e6+,Ke7,Rb7+,Kd6,e7,Kxd5', 'Rxb5+,axb5,e8=Q', 'https://lichess.org/training/ynKSg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YNLk3', 'Rapid', 'tuplicano', 1644, 'bobchess77', 1646, 'd4,d5,c4,Nf6,Nc3,Bf5,e3,e6,Nf3,Bb4,Bd3,Bg4,h3,Bh5,Bd2,Nc6,cxd5,Nxd5,Be2,Bxf3,Bxf3,Bxc3,bxc3,O-O,O-O,Qf6,Qb3,Rab8,Bxd5,exd5,Qxd5,Rfd8,Qc5,b6,Qb5,a5,c4,Na7,Qb2,Nc8,Bxa5,Nd6,Bc3,Nxc4,Qb3,b5,Rfd1,c6,d5,Qg6,dxc6,Qxc6,Qb4,h6,Bd4,Rd6,Bc5,Rg6,g3,Ne5,Rd6,Nf3+,Kf1,Rxd6,Bxd6,Ng5,Rd1,Nxh3,Bxb8,Qh1+,Ke2,Qh2,Rf1,Ng1+,Rxg1,Qxg1,Kf3,Qd1+,Kg2,Qe2,Qb3,Qd2,Be5,b4,Bb2,Qd6,a3,Qc6+,Kg1,bxa3,Qxa3,Qf3,Qc3,f6,Qc8+,Kh7,Qc2+,Kg8,Qc8+,Kh7,Qc2+,Kg8,Qd2,Qb7,Qd8+,Kh7,Qd3+,Kg8,Ba3,Qa7,Qd6,Qb7,Qf8+,Kh7,Qe7,Qb1+,Kg2,Qc2,Qd6,Qe4+,Kg1,Qb1+,Kg2,Qe4+,Kg1,Qb1+,Kh2,Qf5,Qd4,Qxf2+,Kh3,Qf5+,Qg4,Qf1+,Kh4,Qh1+,Qh3,Qe4+,Qg4,Qh1+,Qh3,Qe4+,Qg4', 'g5+,Kh3,Qh1#', 'https://lichess.org/training/YNLk3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ynmef', 'Blitz', 'akgupt77', 1969, 'Sleepyhead1962', 2056, 'e4,Nf6,Nc3,d6,d4,e6,f3,Be7,Bd3,O-O,Nge2,c5,d5,a6,O-O,b5,a3,c4,e5,cxd3,exf6,dxe2,Qxe2,Bxf6,dxe6,Bxe6,Bf4,Nc6,Rfd1,Be5,Bxe5,Nxe5,Ne4,Qb6+,Kh1,Rfd8,Ng5,Rac8,Nxe6,fxe6,f4,Nf7,Qxe6,Rxc2,Rac1,Rxc1,Rxc1,Qd4,h3,Qxf4,Rc8,Qf6', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/Ynmef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ynqQ5', 'Blitz', 'ALONGUS', 2255, 'IM Quesigaelquepase', 2345, 'd4,d5,Nf3,Nf6,g3,Bg4,Bg2,Nbd7,O-O,e6,b3,c5,Bb2,Rc8,Nbd2,c4,c3,Bd6,Re1,O-O,e4,dxe4,Nxe4,Nxe4,Rxe4,Nf6,Re3,a6,bxc4,Rxc4,Bf1,Rc7,c4,Rd7,Qb3,Bxf3,Rxf3,Be7,Bd3,h6,Rd1,Qc7,Bb1,Rfd8,Qc2,Qc6,Rxf6,Bxf6,Qh7+,Kf8,Ba3+,Rd6,d5,exd5,cxd5,Qa4', 'Bxd6+,Rxd6,Qh8+,Ke7,Re1+', 'https://lichess.org/training/ynqQ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yNRP4', 'Classical', 'atanu', 1906, 'Rex123', 1882, 'd4,f5,c4,Nf6,Nc3,d5,e3,e6,a3,a6,Nf3,Ne4,Ne5,Nxc3,bxc3,Bd6', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/yNRP4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YnSGB', 'Classical', 'ericthered03', 1663, 'Kaktuskaktus', 1664, 'd4,c6,Bf4,d5,Nf3,Bg4,e3,Nf6,Be2,e6,h3,Bf5,Bd3,Bxd3,Qxd3,Be7,Nbd2,O-O,e4,Nxe4,Nxe4,dxe4,Qxe4,h6,O-O-O,c5,dxc5,Qa5,Kb1,Nc6,Bd6,Bxd6,cxd6,Nb4,a3,Nd5,Rd2,Qb6,Rhd1', 'Nc3+,Ka1,Nxe4', 'https://lichess.org/training/YnSGB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ynTfX', 'Classical', 'Richardotobinho', 2062, 'prabhat11', 1980, 'e4,c5,f4,Nc6,Nf3,d6,Bb5,a6,Bxc6+,bxc6,O-O,Bg4,c3,e6,d4,cxd4,cxd4,Be7,Qc2,Bxf3,Qxc6+,Kf8,Rxf3', 'Rc8,Qxa6,Rxc1+', 'https://lichess.org/training/ynTfX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yNv8Z', 'Classical', 'BARAKOFF', 1886, 'pavelmeda', 1833, 'd4,d5,e3,Nf6,Bd3,g6,f4,Bg4,Nf3,Bg7,O-O,O-O,Nbd2,Nbd7,h3,Be6,Ne5,c5,c3,cxd4,exd4,Nxe5,fxe5,Ne8,Nf3,Qd7,Kh2,Bf5,Bxf5,Qxf5,Be3,Qd7,Qd2,f5,exf6,exf6,Bh6,Qd6+,Kg1,Qg3', 'Bf4,Qxf4,Qxf4', 'https://lichess.org/training/yNv8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YNWSq', 'Rapid', 'carvilesp9', 1822, 'MatteoBosi93', 1832, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d3,c6,Bd2,Qc7,Nf3,Nf6,Be2,Bf5,Nd4,Bg6,g4,e6,h4,h6,f4,Nd5,Rf1,Bd6,Qc1,Nd7,Be3,Nxe3,Qxe3,O-O-O,O-O-O,e5,Nb3,exf4,Qxa7,Qb6,Qa4,Nc5,Nxc5,Qxc5,Ne4,Bxe4,Qxe4,Rde8,Qg2,Qe3+,Rd2,f6,Rf3,Qe5,Qf2,g5,h5,Ba3', 'd4,Bxb2+,Kxb2', 'https://lichess.org/training/YNWSq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ynz60', 'Classical', 'buugii1', 1810, 'auskalo', 1855, 'd4,d5,c4,e6,e3,Nf6,c5,Nc6,Nc3,Ne4,Nxe4,dxe4,Bc4,Be7,Ne2,O-O,O-O,b6,cxb6,cxb6,Ng3,e5,dxe5,Nxe5,Bb3,Bb7,Qh5,Bd6,Bc2,g6,Qe2,Rc8,Nxe4,Bb8,Rd1,Qh4,g3,Qh3,b3,Ng4,f3,Ne5,Bb2,a5,Ba3,Rfd8,Rxd8+,Rxd8,Qb5,Nxf3+,Kf2,Nh4,Nf6+,Kg7,Ne8+,Kh6', 'Bf8#', 'https://lichess.org/training/Ynz60');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YO0C2', 'Blitz', 'umadbr0', 1874, 'Bakalinge', 1860, 'c4,Nf6,d4,c5,e3,g6,Nc3,Bg7,Nf3,O-O,Be2,Na6,a3,d6,O-O,Nc7,b4,b6,Re1,Bf5,Bd3,Bg4,h3,Bxf3,Qxf3,Ne6,d5,Ng5,Qd1,Nge4,Bb2,Nxc3,Bxc3,cxb4,axb4,Qc7,f4,Rfc8,Qb3,a5,bxa5,bxa5,Ra4,Rcb8,Qc2,Rb7,Rb1,Rxb1+,Qxb1,Rb8,Qa2,Qb6,Rxa5,Qxe3+,Kh1,Qxd3,Bb2,Qf1+,Kh2,Qxf4+,Kh1,Qf1+,Kh2,Rxb2,Ra8+,Bf8,Qxb2,Ne4', 'Rxf8+,Kxf8,Qh8#', 'https://lichess.org/training/YO0C2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yo0fq', 'Rapid', 'AhmadTauseef', 1655, 'Thomathieux', 1663, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Nc3,d6,Be3,Bxe3,fxe3,O-O,Qe2,Bg4,O-O-O,a6,h3,Bd7,g4,h6,Rdg1,b5,Bd5,b4,Na4,Rb8,b3,Na5,Nb2,c6,Bc4,Nxc4,Nxc4,Qc7,d4,Nxe4,dxe5,d5,Nd6,Nxd6,exd6,Qxd6,Rd1,a5,e4,c5,Rxd5,Qf4+,Kb1,Bb5,Rf5', 'Qxf5,exf5,Bxe2', 'https://lichess.org/training/yo0fq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YO0o9', 'Blitz', 'peluiq', 1998, 'mehdibayat', 1995, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,c3,e6,Bd3,Bxd3,Qxd3,Nf6,h3,Be7,Bg5,O-O,g4,Nbd7,Bxf6,Nxf6,h4,Nxg4,Rg1,Nf6,Ng5,Ne4,Nxe4,dxe4,Qxe4,Bxh4,Nd2,Bf6,Nf3,g6,Ne5,Bg7,O-O-O,b5,Rh1,b4,c4,Rc8,b3,Qa5,Kb1,Qc7,Qh4,h6,Qe4,a5,f4,a4,Qe3,axb3,Qxb3,Bxe5,fxe5,Qxc4,Rxh6,Qxb3+,axb3,Kg7,Rdh1,Rh8,Rxh8,Rxh8,Rxh8,Kxh8,Kc2,Kh7,Kd3,Kh6,Kc4,Kg5,Kxb4,Kf4,Kc4', 'g5,b4,g4,b5,g3,b6,g2,b7,g1=Q,b8=Q,Qc1+', 'https://lichess.org/training/YO0o9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yo0pE', 'Rapid', 'Uguzzone', 1710, 'branimir123', 1734, 'd4,d5,Nf3,Nf6,g3,h6,Bg2,Nc6,a3,Bf5,Bf4,Be4,O-O,e6,Nc3,a6,Nxe4,Nxe4,Ne5,Nxe5,Bxe5,f6,Bf4,g5,Be3,f5,f3,Nf6,c3,Bd6,Qa4+,c6,f4,gxf4,Bxf4,Bxf4,Rxf4,Qd6,Qd1,h5,b3,Ng4,Qd2,h4,gxh4,Rxh4,e3,O-O-O,h3,Rdh8,hxg4,fxg4,Kf2,Rh2,Rg1,e5,dxe5,Qg6,Kf1,Qb1+,Kf2', 'g3+,Kf3,Qxg1', 'https://lichess.org/training/yo0pE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yO5cQ', 'Rapid', 'krzysiekstasilas', 1918, 'Keivanking', 2002, 'e4,c5,f4,Nc6,Nf3,d6,Bb5,Bd7,d4,a6,Bxc6,Bxc6,d5,Bb5,Nc3,Nf6,Nxb5,axb5,e5,Nd7,O-O,Qb6,e6,fxe6,dxe6,Nf6,Be3,Ng4,Bf2,Nxf2,Rxf2,h6,Ne5,g6,Nxg6,Rg8,Qh5,O-O-O,Nxf8,Rdxf8,a4,bxa4,Rxa4,Kb8,c4,Qc6,b3,Rxf4,Rfa2,Rfg4,Qd5,Kc7,Qxc6+,Kxc6,g3,Re4,Ra5,Rxe6,Rb5,Rf8,Ra7,Rb8,Kg2,Rf6,Kh3,d5,Raa5,b6,cxd5+,Kxd5,Ra7,e5,Rc7,e4,g4,e3,Rd7+,Ke4,Re7+,Kf3,b4,cxb4,Rxb4,Kf2,Rb2+,Kf3,Rb3,Kf2,Rbxe3,Rf3+,Rxf3+,Kxf3,Re6,b5,Rxh6,b4,Ra6', 'Rh8+,Rh6,Rxh6#', 'https://lichess.org/training/yO5cQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yO8bp', 'Blitz', 'chillieboy', 1533, 'MGaashmawy', 1550, 'e4,d5,exd5,e6,dxe6,Bxe6,Nf3,Nf6,b3,Bd6,d4,O-O,Bd3,Re8,O-O,Bg4,Nbd2,Nh5,Bb2,Nd7,c4,Ndf6,Qc2,g6,Ne5,Nf4,Nxg4,Nxg4,Rfe1,Qg5,Nf3,Qh6,d5,Nxd3,Qxd3,Bxh2+,Kf1,Bd6,Qd4', 'Qh1+,Ng1,Nh2#', 'https://lichess.org/training/yO8bp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yo9k4', 'Rapid', 'Frisius', 1859, 'igorsm', 1962, 'e4,d5,exd5,Nf6,Bc4,Nxd5,Nf3,Bg4,d4,e6,O-O,Nb6,Be2,Nc6,c3,a6,Bf4,Bd6,Bxd6,Qxd6,Nbd2,Bf5,b4,Nd5,Nc4,Qe7,Qd2,b5,Nce5,Nxe5,Nxe5,f6,Nc6,Qd6,Na5,O-O,a4,c6,axb5,cxb5,Nb7,Qf4,Qxf4,Nxf4,Bf3,Nd5,Nc5,Ra7,Nxa6,Nxc3,Nc5,Ra2,Rfe1,Rxa1,Rxa1,Rd8,g4,Bg6,Nxe6,Re8,d5,Bf7,Re1,Bxe6,dxe6,Re7,Bc6,Kf8,f4,Rc7,Bd7,Ke7,f5,Rc4,h3,Rxb4,Re3,Nd5,Rd3,Nf4,Rc3', 'Ne2+,Kf2,Nxc3', 'https://lichess.org/training/Yo9k4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YO9SH', 'Rapid', 'ESTHU', 1899, 'Lolwalter', 1870, 'd4,e6,Nc3,c5,Nf3,cxd4,Qxd4,Nc6,Qa4,Bc5,Bg5,f6,Bh4,a6,e3,d5,O-O-O,Bd7,Qg4,g5,Qh5+,Ke7,Bg3,Be8,Qg4,h5,Nxd5+,exd5,Qf5,Nh6,Qxd5,Qd6,Qe4+,Qe6,Qd3,Rd8,Nd4,Nxd4,exd4,Rxd4,Qc3,Rxd1+,Kxd1,h4', 'Qxc5+,Kf7,Bc4,Qxc4,Qxc4+', 'https://lichess.org/training/YO9SH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yOAAe', 'Classical', 'andrian1988', 1749, 'Kuvvetle', 1797, 'e4,c5,Nf3,g6,c3,d5,exd5,Qxd5,Be2,Bg7,O-O,Nf6,d4,cxd4,Nxd4,O-O,Bf3,Qd7,Ne2,Nc6,Bf4,Rd8,Na3,Qxd1,Raxd1,Bg4,Bxg4,Nxg4,h3,Nge5,Nb5,a6,Nc7,Rac8,Nd5,Rd6', 'Nxe7+,Nxe7,Rxd6', 'https://lichess.org/training/yOAAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yoAqn', 'Rapid', 'BlueAvocado', 1885, 'naprof', 1886, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Qe7,Qd5,O-O,h3,Bxc3+,bxc3,Nh6,Bxh6,gxh6,e3,Qa3,Qd2,Re8,Nd4,Nxe5,Be2,Qe7,Nf5,Qe6,Bg4,Nxg4,hxg4,Qe4,Nxh6+,Kf8,O-O,Qg6,Nf5,Qxg4,Ng3,Qxc4,Qd4,Qxd4,cxd4,c6,Rad1,d5,Nh5,Re6,Nf4,Rh6,Nd3,Bf5,Ne5,f6,Nf3,Be4,Nd2,Bf5,f4,Rg6,Kf2,Be4,g3,f5,Rh1,Kg7,Nxe4,dxe4,Rb1,b5,Rbc1,a5,Rc5,Rf6,Rh5,Raf8,Rg5+,Kh6,d5,Rc8,dxc6,Rcxc6,Rxc6,Rxc6,Rxf5,Rc2+,Ke1,Rxa2,Rxb5,a4,g4,a3,Rb3', 'Ra1+,Kf2,a2', 'https://lichess.org/training/yoAqn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yoav9', 'Blitz', 'vanImpe', 2498, 'ambrona', 2401, 'g3,c5,Bg2,Nc6,c4,g6,Nc3,Bg7,Nf3,d6,O-O,Be6,b3,Qc8,Re1,Bh3,Bh1,h5,Bb2,h4,e3,hxg3,hxg3,Bg4,Bg2,Qf5,d4,Qh5,Nd5,O-O-O,Nf4,Qh6,Qd2,e5,dxe5,dxe5,Nd5,e4,Bxg7,Qxg7,Ng5,Ne5,Qa5,f6,Qxa7,Rxd5,cxd5,fxg5,d6,Qh6,Qxc5+,Kb8,Qxe5,Qh2+,Kf1,Qh1+,Bxh1', 'Rxh1+,Kg2,Bf3#', 'https://lichess.org/training/Yoav9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yOc3Y', 'Rapid', 'SerseriC4', 2090, 'Grass2grace', 1979, 'e4,e5,f4,exf4,Nf3,Nf6,Nc3,Bc5,e5,Ng4,d4,Bb4,Bxf4,d6,Bd3,dxe5,dxe5,O-O,h3,Nh6,Bxh6,gxh6,Qd2,Bxc3,bxc3,Kg7,O-O,Nc6,Qf4,Rg8,Ng5,Qxg5', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/yOc3Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yoc4n', 'Classical', 'Sreeni77', 1916, 'DDDDD1000', 1868, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Na5,c3,Nxb3,axb3,d6,c4,bxc4,bxc4,Bb7,d3,Nf6,Nc3,Be7,O-O,O-O,b4,Bc8,Nd5,Bg4,Bd2,Nxd5,cxd5,f5,h3,fxe4,hxg4,exf3,gxf3,Bh4,Kg2,Bg5,Rh1,Bf4,Be3,Qf6,Qe2,Rab8,Ra4,e4,dxe4,a5,b5,Ra8,Rh3,Bxe3,Qxe3,Qb2,Qd3,Rfb8,e5,g6,e6,Rxb5,Rf4,Rb3,Qc4,Rc3,Qa4,Rc2,Qd7,Rxf2+,Kg3,Rg2+,Kh4,Qe5,Qf7+,Kh8,Qf6+,Qxf6+,Rxf6,a4,f4,a3,e7,Kg7,Rf8,Rxf8,exf8=Q+,Kxf8,Rxa3,Ke7,Re3+,Kd7,f5,gxf5,gxf5,Rf2,Kg5,h6+,Kf6,Rd2,Re7+,Kd8,Rh7,Rxd5,Rxh6,c6,Ke6,Kc7,f6,Re5+,Kf7,c5,Kg7,Rg5+', 'Rg6,Rf5,f7', 'https://lichess.org/training/yoc4n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YoDGL', 'Rapid', 'Pr0m3th3u2', 1750, 'Ibrakaadabraa', 1710, 'd4,Nf6,Bf4,e6,Nc3,d5,Nf3,c5,dxc5,Bxc5,e3,Nc6,Be2,O-O,Qd3,a5,h4,a4,h5,h6,Rh3,Nb4,Qd2,b6,Ne5,Bd6,Nb5,Ne4,Qc1,Bxe5,Bxe5,Qg5,Bg3,e5,Bd3,Bxh3,Bxe4,dxe4,gxh3,Qxh5,h4,Qf3,Bxe5,Qh1+,Ke2,Qxh4,Qg1,f6,Bd6,Qh5+,Kf1,Rfd8,Bxb4,Rd1+,Rxd1,Qxd1+,Kg2,Qxc2,Bc3,Rd8,Nd4,Qd3,Qh2,Qc4,Qg3,Qxa2,Nf5,Rd7,Bxf6,Qf7', 'Nxh6+,Kf8,Nxf7', 'https://lichess.org/training/YoDGL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yodua', 'Rapid', 'Lyacht', 1763, 'Jemima_Salawag', 1749, 'c4,c6,Nc3,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,Bg5,Be7,h4,Be6,e4,a6,e5,c5,Qd3,dxe5,Qxd8+,Bxd8,Nxe5,O-O,Bd3,Nbd7,Nxd7,Bxd7,O-O-O,Bc6,f3,b5,b3,b4,Nd5,Nxd5,cxd5,Bxd5,Bxh7+,Kxh7,Rxd5,Bb6,h5,f6,Bf4,Rad8,Rhd1,Rxd5,Rxd5,Rd8,Rxd8,Bxd8,Bd6,Bb6,Kd2,Kh6,g4,Kg5,Kd3,Kh4,Kc4,Kh3,Bxc5,Bxc5,Kxc5,Kg3,Kxb4,Kxf3,Ka5', 'Kxg4,b4,f5,Kxa6,f4', 'https://lichess.org/training/Yodua');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yodY5', 'Rapid', 'KingsleyO', 1643, 'hillingk', 1638, 'e4,e6,d4,d5,e5,a6,Nf3,Nc6,g3,Be7,Bg2,f6,O-O,fxe5,Nxe5,Bf6,Qh5+,g6,Nxg6,hxg6,Qxg6+,Kd7,Re1,Nxd4,c3,Qe8,Qg4,Nc2', 'Qa4+,Kd8,Qxc2', 'https://lichess.org/training/yodY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YOeom', 'Classical', 'anika99', 1664, 'Highlead', 1666, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bb7,Bd5,Nf6,Bxc6,Bxc6,Nxe5,Bxe4,Qe2,Bxg2', 'Nc6+,Be7,Nxd8', 'https://lichess.org/training/YOeom');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YoeWJ', 'Rapid', 'Lucertolo', 1998, 'topstrika', 1950, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,h6,c3,Bc5,d4,exd4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,d6,h3,Nge7,O-O,O-O,Nh2,Ng6,f4,Kh8,f5,Nge7,Qh5,Ng8,Bd5,Bd7,Ng4,Rb8,Bxc6,Bxc6,e5,dxe5,dxe5,b4,Bg5', 'Qxg5,Qxg5,hxg5', 'https://lichess.org/training/YoeWJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yof8x', 'Blitz', 'Spartan22', 2354, 'ZelenaDabel', 2554, 'b3,Nf6,Bb2,g6,Bxf6,exf6,c4,Bg7,Nc3,f5,Rc1,f4,g3,fxg3,hxg3,O-O,Bg2,Nc6,e3,d6,d4,Re8,Nge2,Rb8,O-O,a6,Qd2,Ne7,Nf4,Nf5,Bf3,h5,Kg2,Qg5,Ne4', 'Nh4+,Kh1,Nxf3,Nxg5,Nxd2', 'https://lichess.org/training/yof8x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yOhlD', 'Classical', 'kako11', 1677, 'Cinar_87', 1888, 'e4,e5,Nf3,d6,Bc4,Be7,c3,Nf6,Qc2,O-O,d4,exd4,cxd4,Nc6,a3,d5,exd5,Nxd5,Nc3,Nb6,Bd3,Nxd4,Bxh7+,Kh8,Nxd4,Qxd4,Be3,Qh4,Be4,f5,Bf3,f4,Bd4,Bf6,g3,fxg3', 'hxg3,Qxh1+,Bxh1', 'https://lichess.org/training/yOhlD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yOHmF', 'Blitz', 'dociv', 2032, 'DanDan0011', 1986, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,a3,f6,exf6,Nxf6,Bd3,Bd6,O-O,Qc7,Re1,O-O,h3,e5,dxe5,Nxe5,Nxe5,Bxe5,Nd2,Bc6,Nf3,Bd6,Bg5,Rae8,Qc2,Ne4,Bh4,b6,Ng5,Nxg5,Bxg5,h6,Bh4,c4,Bh7+,Kh8,Bg6,Rxe1+,Rxe1,Bc5,Re2,Qd7,Bg3,b5,Be5,Qd8,Qd2,Kg8,Bd4,Bd6,Qc2,Bc7,Bh7+,Kh8,Bxg7+,Kxg7,Qg6+,Kh8,Qxh6,Qf6', 'Bg6+,Kg8,Qh7#', 'https://lichess.org/training/yOHmF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YOIN5', 'Rapid', 'shivangjoshi', 1780, 'cheddarman1', 1844, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Be2,Nc6,O-O,Be7,d3,Nf6,Bg5,O-O,d4,c4,Nc3,Bf5,b3,cxb3,axb3,Rc8,Qd2,Bb4,Qe1,Bxc2,Bxf6,gxf6,Rc1,Bg6,Qd1,Qd6,Bd3,Nxd4,Nb5,Nxb5,Bxb5,Bc3,Bd3,Be5,Bxg6,fxg6,Rxc8,Rxc8,Qe2,a6,g3,b5,Rd1,Kf7,Qd3,Rc3,Qd2,Rxb3,Nxe5+,fxe5,Qh6,Kg8,Rc1,Qd7,Qd2,d4,Rd1,Rc3', 'Qxc3,dxc3,Rxd7', 'https://lichess.org/training/YOIN5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YOj97', 'Rapid', 'nop1k', 1860, 'sana1979', 1821, 'e4,c5,f4,d6,Nf3,Nc6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,Nc3,e6,d3,b5,Qe1,Be7,Qg3,g6,f5,exf5,exf5,Nf6,fxg6,fxg6,Bh6,Qd7,Bg7', 'Nh5,Qf2,Nxg7', 'https://lichess.org/training/YOj97');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YoJqB', 'Rapid', 'Chess_05_ru', 1855, 'Olivier12345678', 1859, 'd4,d5,Nf3,Nf6,g3,c6,Bg2,Nbd7,O-O,e6,b3,Be7,c4,O-O,c5,b6,b4,bxc5,bxc5,a5,Bg5,Ba6,Qd2,Ne4,Bxe7,Qxe7,Qe3,Ndf6,Ne5,Qc7,Bxe4,Nxe4,f3,Nf6,Nc3,Nd7,f4,Nxe5,fxe5,Rab8,Na4,Rb4,Nb6,Qe7,Rf4,f5,exf6,Rxf6,Raf1,Rxf4,Qxf4,Bxe2', 'Qb8+,Qf8,Rxf8#', 'https://lichess.org/training/YoJqB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YoLHn', 'Rapid', 'alexfedorsil', 2024, 'gr-al01', 1856, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,Qf3,Qxf3,Nxf3,Nc6,c3,Bg4,Be2,e5,h3,Bh5,b4,e4,Ng1,Bg6,Bb5,Kd7,Ne2,a6,Bxc6+,Kxc6,Nf4,Bd6,Nxg6,hxg6,O-O,g5,f3,exf3,Rxf3,f6,d4,Rae8,Re3,Rxe3,Bxe3,Re8,Kf2,Bg3+,Kf3,Kd5,Rc1', 'Rxe3+,Kxe3,Bf4+,Kd3,Bxc1', 'https://lichess.org/training/YoLHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yOLkU', 'Blitz', 'Asperhard', 1806, 'Zeloid', 1910, 'e4,e5,Bc4,Nc6,Nc3,Bc5,a3,a6,d3,d6,h3,Nge7,Nge2,O-O,O-O,Ng6,Kh2,Be6,Nd5,Bxd5,exd5,Nd4,Ng3,f5,c3,f4,Ne4,Nf5,Nxc5,dxc5,Qe2,Kh8,Bd2,Qd6,Kg1,Ngh4,Qg4,Rf6,g3,Rg6,Qh5,fxg3,fxg3,Rxg3+,Kh2,e4,Bf4,Qxf4,Rxf4', 'Rg2+,Kh1,Ng3#', 'https://lichess.org/training/yOLkU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yolwq', 'Rapid', 'terserahkau', 1978, 'Ahmedelsayed28', 1988, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bd3,Qf6,Qe3,Ne7,Nc3,Be6,O-O,Nc6,Nd5,Qd8,f4,Be7,f5,Bd7,Nxe7,Qxe7,b3,O-O-O,a4,Rde8,b4,Kb8,b5,Ne5,Bb2,f6,c4,g6,a5,gxf5,b6,a6,bxc7+,Kxc7,Qb6+,Kb8,Bxe5,dxe5,Rab1,Bc8,Rxf5,Bxf5,exf5,Qc7,Qxf6,e4', 'Bxe4,Rxe4,Qxh8+', 'https://lichess.org/training/Yolwq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YoMbt', 'Rapid', 'impathak', 1901, 'abdulkhodar', 1846, 'e3,e6,b3,d5,Bb2,c5,d3,a6,g3,Nc6,a3,d4,Ne2,e5,Bg2,Bd7,Nd2,Nf6,O-O,Be7,exd4,cxd4,f4,Bg4,fxe5,Nxe5,Bxd4', 'Bxe2,Qxe2,Qxd4+', 'https://lichess.org/training/YoMbt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YONvY', 'Blitz', 'thomasvanpolen', 1659, 'Jaro85', 1588, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,e3,b6,Nf3,Bb7,cxd5,exd5,Bb5,Be7,Ne5,O-O,Bxf6,Nxf6,O-O,a6,Bd3,Ne4,Qc2,Bd6,Nf3,f5,Nd2,Qh4,Nf3,Qh6,h3,g5,Nxe4,fxe4,Be2,g4,Ne5,gxh3,Ng4,Qh4,g3,Bxg3,fxg3', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/YONvY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YOOJK', 'Classical', 'khsaker', 1809, 'MamaEvan', 1861, 'e4,d6,Nf3,Nf6,Nc3,g6,h3,Bg7,d4,O-O,Be3,e5,d5,c6,Bd3,h6,Qd2,Kh7,O-O-O,Qa5,g4,Ng8,Kb1,cxd5,Nxd5,Qxd2,Bxd2,Na6,Bxa6,bxa6,g5,h5,Bb4,Rd8,Nc7,Rb8,Bxd6,Bb7,Bxe5,Bxe4,Nxa6,Bxe5,Nxe5,Rb6,Rhe1', 'Rxd1+,Rxd1,Rxa6', 'https://lichess.org/training/YOOJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yoP31', 'Rapid', 'sevmem54', 1949, 'Freddy1358', 1966, 'e4,e5,Bc4,Nf6,Nc3,Bb4,Nge2,Nxe4,Nxe4,d5,Bb3,dxe4,Ng3,f5,Qh5+,g6,Qh6,Nc6,Qg7,Rf8,Qxh7,Qe7,Qxg6+,Kd8,c3,Bd6,d4,f4,Nxe4', 'Bf5,Qg5,Bxe4', 'https://lichess.org/training/yoP31');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yoPMS', 'Rapid', 'Luis_Bernal', 1784, 'delta_gate', 1934, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,Be2,Nc6,c3,d6,Nbd2,h6,h3,Bd7,g4,h5,gxh5,Nxh5,Bg5,Qe8,Qc2,e5,dxe5,dxe5,Ne4,b6,Nh4,Bf5,Bxh5,Bxe4,Qxe4,gxh5,Nf5,f6,Bh6,Bxh6,Nxh6+,Kh8,Rg1,Ne7,Nf5,Nxf5,Qxf5,Qf7,Rg6,Qh7,Ke2,Rf7,Rag1,c5,Qe4,Rd8,R1g3,Rfd7,Qc6,Rd2+,Kf3,R2d6,Qe4,h4,R3g4,Qh5,Kg2,f5,Rxh4', 'Rxg6+,Kh2,fxe4', 'https://lichess.org/training/yoPMS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yoPNf', 'Rapid', 'MarcosRobertoX', 1735, 'GjokoAndonov', 1902, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,Qc7,Nc3,a6,Bc4,e6,Nh3,Nf6,Qf4,d6,O-O,b5,Bb3,Be7,a4,b4,Ne2,Ne5,c3,bxc3,Nxc3,Nd3,Qe3,Nc5,Bc2,Bb7,Bd2,Rb8,b4,Ncd7,b5,Nc5,b6,Qxb6,a5,Qc7,Qg3,g6,Bg5,Ncxe4,Bxe4,Bxe4,Rac1,Qd8', 'Bxf6,Bxf6,Nxe4', 'https://lichess.org/training/yoPNf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YoPQg', 'Blitz', 'wallish', 1714, 'Montana13', 1719, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,h6,O-O,Bg4,fxe5,Nxe5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,Qe7,Nc3,Nf6,d3,O-O-O,Be3,Kb8,Bd4,Qe6,Bxf6,gxf6,Qxf6,Qxf6,Rxf6,Rd7,Raf1,Rh7,Nd5,Bg7,Rxf7,Rxf7,Rxf7,Bd4+,Rf2,Bxf2+,Kxf2,c6,Ne3,Kc7,Nf5,Kd7,Ke3,Ke6,Nd4+,Ke5,Nf3+,Ke6,h3,c5,Nh4,b5,Ng6,Rg7,Nf4+,Ke5,Kf3,a5,c3,b4', 'd4+,cxd4,cxd4+,Kf6,Nh5+,Kf7,Nxg7', 'https://lichess.org/training/YoPQg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YOpVW', 'Blitz', 'OpenThemAll', 1635, 'TheAngryTurd', 1679, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nf6,Bg5,Be7,Bxf6,Bxf6,c3,O-O,Nc2,Be6,Nce3,Be7,Be2,f5,exf5,Bxf5,Nxf5,Rxf5,Qd3,Rf7,Bf3,Ra7,Qe3,Qd7,O-O,Nd8,Bg4,Qb7,Rad1,Rf8,Rfe1,Nf7,f4,Re8,fxe5,Nxe5,Be6+,Kh8,Nxe7,Qxe7,Bd5,Nc4,Qxe7,Raxe7,Rxe7,Rxe7,Bxc4,bxc4,Rxd6,Kg8,Rxa6,Re2,Rb6,Re1+,Kf2,Ra1,a3,Kf7,Ke3,Rc1,Kd4,Rc2,a4,Rxg2,a5,Rxh2,a6,Rh1,Rb7+,Kg6,a7,Ra1,Kxc4,h5,b4,h4,b5,h3,Rb6+,Kg5,Rb8,Rxa7,Rh8,Kg4,b6,Rf7,Kc5,Kg3,Kc6,Rf6+,Kc7,Rf7+,Kc8,h2', 'b7,Rxb7,Kxb7,g5,c4,g4,c5,Kg2,c6,g3,c7,h1=Q,Rxh1,Kxh1,c8=Q', 'https://lichess.org/training/YOpVW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yoQ0H', 'Rapid', 'Tonyukuk09', 2068, 'joshua_W', 1913, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,e6,O-O,Nc6,a3,Nd7,Be3,h6,Qc2,e5,d5,Ne7,b4,f5,Ne1,f4,Bd2,Nf6,Nd3,g5,f3,g4,Be1,Ng6,c5,h5,cxd6,cxd6,Bf2,h4,Nb5,a6,Nc3,g3,Be1,gxh2+,Kxh2,Nh5,Na4,h3,gxh3,Ng3,Rg1,Qh4,Nf2,Kf7,Nb6,Bxh3', 'Nxh3,Rh8,Qc7+,Ne7,Qd7,Qxh3+,Qxh3,Rxh3+,Kxh3,Rh8+,Kg2', 'https://lichess.org/training/yoQ0H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YoQ5r', 'Rapid', 'theokritos', 1888, 'alexeygr', 2169, 'd4,d5,Bf4,Nf6,e3,e6,Be2,c5,c3,Nc6,Nf3,h6,Nbd2,Bd6,Bg3,O-O,Bd3,a6,Bc2,b5,a3,Bb7,Nb3,cxd4,exd4,Bxg3,hxg3,Ne4,Qd3,f5,Nc5,Nxc5,dxc5,Qf6,g4,fxg4,Qh7+,Kf7,Rxh6', 'Qxh6,Qxh6,gxh6', 'https://lichess.org/training/YoQ5r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yoqJT', 'Rapid', 'Halamadriiid', 1905, 'zeylik', 2003, 'd4,d5,c4,dxc4,e3,e5,Bxc4,exd4,exd4,Nf6,Nf3,Be7,O-O,O-O,Be3,Bg4,h3,Bh5,Nc3,Nc6,a3,a6,Bd3,Qd6,Rc1,Nd5,Nxd5,Qxd5,Bxh7+,Kxh7,Ng5+,Bxg5,Qxh5+,Kg8,Qxg5,Qxg5,Bxg5,Nxd4,Rxc7,Rab8,Kh1', 'Ne6,Rd7,Nxg5', 'https://lichess.org/training/yoqJT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yoQKH', 'Rapid', 'mlauria', 2073, 'Arash139595', 2095, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,Nc6,f4,e5,f5,a6,d3,h6,Be3,Be7,h3,b5,Qd2,b4,Nce2,Qa5,g4,Bd7,c3,Rb8,a3,bxc3,bxc3,Rb3,a4,O-O,Bxh6,gxh6,Qxh6,Rfb8,g5,Rxc3,Kf2,Rc2', 'gxf6,Bxf6,Qxf6', 'https://lichess.org/training/yoQKH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YoQol', 'Rapid', 'scherenaxt', 1872, 'cango49', 1887, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Qh4,Qd5,Qf6,Bg5,Qg6,Nxc3,Bb4,O-O-O,Bxc3,bxc3,Nc6,f4,Nge7,Bxe7,Nxe7,Qc5,Qc6,Qb4,d6', 'Bb5,O-O,Bxc6', 'https://lichess.org/training/YoQol');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YoqQh', 'Blitz', 'Jambon51', 1672, 'mmoss7039', 1665, 'e4,c5,Nc3,Nc6,Nf3,e6,d4,cxd4,Nxd4,Nf6,f4,d5,e5,Nd7,Nf3,Bc5,Na4,Bb4+,c3,Bc5,Nxc5,Nxc5,Be3,b6,Bb5,Bd7,O-O,O-O,Nd4,Nxd4,Bxd7,Qxd7,Bxd4,Ne4,Qg4,Qb5,f5,Qxb2,f6,g6,Qh3,Kh8,Qh6,Rg8,a4,Nxc3,Bxc3,Qxc3,Rae1,Qd4+,Kh1,Qxa4,Re3,Qc4', 'Qxh7+,Kxh7,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/YoqQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YOTcR', 'Rapid', 'rfleschenberg', 898, 'jpojpo', 919, 'e4,c5,Nf3,Nf6,Nc3,d6,Bc4,Be6,Bb5+,Nc6,d4,a6,Bxc6+,bxc6,O-O,c4,Bf4,g6,b3,Bg7,b4,O-O,e5,Ng4,a4,dxe5,dxe5,a5,h3,axb4,hxg4,bxc3,a5,Rxa5', 'Qxd8,Rxd8,Rxa5', 'https://lichess.org/training/YOTcR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yOud8', 'Rapid', 'FradkovEvgeniy', 1937, 'Has5saN', 1907, 'c4,g6,Nc3,Bg7,Nf3,d6,d3,Nf6,h3,O-O,Bf4,e5,Bh2,a5,g4,c6,Bg2,Nbd7,O-O,Nc5,Nd2,Rb8,f4,exf4,Bxf4,h5,gxh5,Nxh5,Bh2,Qg5,Nf3,Qe3+,Kh1,Nf4,Qc1,Nxg2,Kxg2,Qe6,Ng5,Qe7,Nce4,Nxe4,Nxe4,Bf5,Bxd6', 'Bxe4+,dxe4,Qxd6', 'https://lichess.org/training/yOud8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yovEH', 'Rapid', 'Oleg_Kuzmich', 1805, 'fisher_gary', 1772, 'd4,Nf6,Nc3,g6,Bf4,Bg7,e4,d6,Nf3,O-O,Bd3,Bg4,O-O,Nh5,Be3,Nc6,Be2,f5,Ng5,Bxe2,Qxe2,Qd7,d5,Ne5,Ne6,Rf7,Nxg7,Nxg7,f4,Ng4,Bd4,Raf8,e5,dxe5,Bxe5,Nxe5,fxe5,e6,Rad1,exd5,Nxd5,Qa4,Nf6+,Kh8,Qf3,Qxa2,Qxb7,Ne6,Ra1,Qc4,Qf3,Ng5,Qf2,Ne4,Nxe4', 'fxe4,Qxf7,Rxf7,Rxf7,Qxf7', 'https://lichess.org/training/yovEH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YoVIa', 'Rapid', 'Oleg100', 1801, 'KRILLACCIO', 1728, 'e4,e6,Nf3,d5,e5,Bb4,Bb5+,c6,Ba4,Nd7,O-O,Nc5,Bb3,Bd7,d4,Nxb3,axb3,a6,c3,Be7,c4,b6,cxd5,cxd5,Nc3,a5,Be3,Bb4,Ng5,Ne7,Qf3,Nf5,Qf4,h6,Nf3,g5,Qg4,Be7,Rac1', 'h5,Qxg5,Bxg5', 'https://lichess.org/training/YoVIa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yOwiv', 'Rapid', 'fikro', 1872, 'gonzok67', 1845, 'd4,Nf6,e3,d5,Bd3,e6,f4,Ne4,Nf3,h6,O-O,Nc6,c3,Bd7,Ne5,Nxe5,fxe5,c5,Bxe4,dxe4,Qg4,Bc6,Nd2,h5,Qf4,Qe7,Nxe4,g5,Nxg5,Rg8,h4,Bh6,Qxf7+', 'Qxf7,Rxf7,Bxg5,hxg5,Kxf7', 'https://lichess.org/training/yOwiv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yOXBj', 'Rapid', 'amanQaz123', 1790, 'Seller_Door', 1736, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Qe2,a6,Bxd7+,Nxd7,Nc3,Ngf6,d4,e6,Bg5,Bd6,Nxd5', 'Qa5+,Bd2,Qxd5', 'https://lichess.org/training/yOXBj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yoxhl', 'Rapid', 'ironblue', 1754, 'VOTT', 1786, 'e4,Nf6,Nc3,e6,e5,Nd5,Nxd5,exd5,d4,d6,Nf3,Bg4,exd6,Bxd6,Be2,O-O,Be3,Nd7,O-O,Nf6,h3,Bh5,Ne5,Bxe2,Qxe2,Ne4,c3,f6,Nf3,f5,Bg5', 'Nxg5,Nxg5,Qxg5', 'https://lichess.org/training/Yoxhl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YoYZi', 'Rapid', 'q8mm2010', 1677, 'Fedor_of_Samara', 1671, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h5,Nf3,e6,Bd3,Bxd3,Qxd3,Nf6,Bg5,Be7,O-O,Ng4,Bxe7,Qxe7,Ng5,Nd7,f3,Ngf6,Rfe1,O-O-O,Nf5,Qf8,Ne3,Nd5,Nxd5,exd5,b4,Re8,Rxe8+,Qxe8,Kf2,f6,Nh3,g5,Re1,Qd8,b5,g4,Nf4,gxf3,bxc6,Nb6,Qf5+,Kb8,cxb7,fxg2,Ne6,Qd6,Nc5,g1=Q+,Kxg1,Qg3+,Kf1,Rg8,Qf2', 'Qh3+,Ke2,Rg2', 'https://lichess.org/training/YoYZi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YOZH5', 'Rapid', 'pOspIS', 1788, 'tomotomo21', 1763, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,e5,dxe5,Qxe5+,Be2,Nc6,Nf3,Qe6,O-O,Nf6,Re1,Be7,Ng5,Qd7,Bd3,h6,Nge4,Nxe4,Rxe4,O-O,Qf3,Bd6,Nb5,a6,Nxd6,Qxd6,Bf4,Qf6,Rae1,Bf5,Be5,Nxe5,Rxe5,Bxd3,Qxd3,Rfd8,Qb3,Qc6,Re7,Qd5,Re8+,Kh7', 'Qxd5,Rxd5,Rxa8', 'https://lichess.org/training/YOZH5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yOZuD', 'Blitz', 'WFM mitraasz', 2247, 'Smooth_Criminal', 2429, 'd4,Nf6,Nf3,e6,e3,b6,Bd3,Bb7,O-O,Be7,c4,O-O,Nc3,d5,b3,c5,Bb2,cxd4,exd4,Nc6,Re1,Rc8,Rc1,h6,Bb1,Re8,Qd3,Nb4,Qe2,dxc4,bxc4,Ba6,Ne4,Nbd5,Ne5,Bb4,Red1,Bf8,Bd3,Nxe4,Qxe4,Nf6,Qf3,Qc7,Bb1,Bb7,Qd3,Be4,Qg3,Bxb1,Rxb1,Bd6,Rbc1,Bxe5,dxe5,Ne4,Qg4,Nc5,h3,Red8,Rxd8+,Rxd8,Bc3,Na4,Bb4,Qxe5,Rd1,Rc8,Rd4,Nc5,Bxc5,bxc5,Rd7,Qe1+,Kh2,Qe5+,f4,Qf5,Qxf5,exf5,Rxa7,g6,a4,Kg7,a5,Kf6,a6,Rc6,Ra8,g5,a7,Ra6,Kg3,Kg7,fxg5,hxg5,h4,Ra3+,Kf2,gxh4,Ke2,f4,Kf2,Kf6,Ke2,Kf5,Kf2,f6,Ke2,f3+,Kf2,h3,gxh3,Kf4,Kf1,Ra2,Ke1,f2+,Kf1', 'Kf3,Rd8,Ra1+,Rd1,Rxd1#', 'https://lichess.org/training/yOZuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yp1Kb', 'Rapid', 'Casperdekker20', 1957, 'chEss653447', 2006, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,a6,cxd5,cxd5,e3,Nc6,a3,Bf5,Qb3,b5,a4,b4,Ne2,e6,Ng3,Bg6,Nh4,Bd6,Nxg6,hxg6,Be2,O-O,Bd2,Qb6,Rc1,Rfc8,O-O,Na5,Rxc8+,Rxc8,Qd1,Nc4,b3,Nxd2,Qxd2,Rc3,Rb1,Qc6,Bd1,Bxg3,hxg3,Ne4,Qe2,Rc1,Rxc1,Qxc1,Qc2,Qa1,Kh2', 'Nxf2,Qxf2,Qxd1', 'https://lichess.org/training/Yp1Kb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YP2vs', 'Rapid', 'mak7ym', 1779, 'dkide', 1727, 'e4,c6,c4,d5,exd5,cxd5,cxd5,Qxd5,Nc3,Qa5,Nf3,e6,Bc4,Nc6,O-O,Be7,d4,Nf6,Bd2,Qd8,Be3,O-O,Bd3,Ng4,Qc2,h6,Rad1,Nxe3,fxe3,Nb4,Qf2,Nxd3,Rxd3,Bd7,e4,Qb6,Ne5,Bb5,Nxb5,Qxb5,Rg3,Bf6,Nd7,Qxd7,Qxf6,g5,Qxh6,Qxd4+,Kh1,f6,h4,Rf7,Qg6+,Rg7,Qxf6,Qxf6,Rxf6,gxh4,Rh3,Rg4,Rxe6,Kf7,Re5,Rc8,Rf3+,Kg6,Kh2,Rc2,Kh3,Rcxg2,Re8,Kh5,Rh8+,Kg5', 'Rf5+,Kg6,Rg8+', 'https://lichess.org/training/YP2vs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yP4ab', 'Blitz', 'danib1996', 1788, 'shakerrahman', 1806, 'e4,e5,Nc3,Bc5,f4,Bxg1,Rxg1,exf4,d4,g5,g3,fxg3,hxg3,h6,Be3,d6,Be2,Nc6,Qd2,Qf6,Rf1,Qg6,O-O-O,Bd7,Rh1,O-O-O,Bxg5,Re8,e5,dxe5,dxe5,Nxe5,Bg4,Bxg4', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/yP4ab');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yP4W5', 'Blitz', 'DavidMH', 1655, 'degaman1', 1660, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d6,h3,Be6,Bxe6,fxe6,Re1,Qd7,c3,h6,d4,exd4,cxd4,Bb6,d5,Ne7,Nc3,O-O-O,a4,exd5,exd5,g5,b4,g4,hxg4,Nxg4,Be3,Bxe3,fxe3,Nf5,e4,Nfe3,Rxe3,Nxe3,Qd4,Nxg2,Kxg2,Qg4+,Kf2,Rhg8,Rg1,Qf4,Rxg8,Rxg8,Qxa7', 'Rg3,Qe3,Rg2+,Kxg2,Qxe3', 'https://lichess.org/training/yP4W5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yP51F', 'Rapid', 'vladislavho', 1640, 'NITianrock', 1734, 'e4,c5,Nf3,Nc6,b3,d5,exd5,Qxd5,Bc4,Qd8,Bb2,Nf6,O-O,h6,d4,Nxd4,Nxd4,cxd4,Qxd4,Qxd4,Bxd4,Ne4,Bd3,Nd6,Nc3,b6,Nd5,Kd8,c4,Bb7,c5', 'bxc5,Bxc5,Bxd5', 'https://lichess.org/training/yP51F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yp5P0', 'Rapid', 'Bombist', 2198, 'Lukas_Tichy', 1966, 'e4,e6,Nf3,d5,e5,c5,b4,Nc6,bxc5,Bxc5,d4,Bb4+,c3,Be7,Bd3,a6,a4,Rb8,O-O,b5,axb5,axb5,Ba3,b4,cxb4,Nxb4,Be2,Nc6,Nc3,Bxa3,Rxa3,Nge7,Nb5,O-O,Nd6,Ng6,g3,f6,Qc1,Qd7,Bb5,Rxb5,Nxb5,fxe5,Nxe5', 'Ncxe5,dxe5,Qxb5', 'https://lichess.org/training/yp5P0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yP6Cw', 'Rapid', 'Nessie0808', 1856, 'sir_henry', 1935, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,e5,d5,c5,Bd3,Ne8,Qd2,f5,Bh6', 'Qh4+,g3,Qxh6', 'https://lichess.org/training/yP6Cw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YP6lk', 'Rapid', 'Kajames', 1783, 'bz', 1794, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,a6,e3,Nbd7,c5,Qc7,Bd2,e5,Be2,exd4,exd4,Nxc5,dxc5,Bxc5,O-O,b5,Na4,Ba7,Nc3,d4,Nb1,c5,Bg5,Nd5,Bd3,O-O,Nbd2,h6,Bh4,c4,Be4,Bb7,Rc1,Rfe8,Re1,Nf4,Bxb7,Qxb7,Bg3,Rxe1+,Nxe1,Nh5,Qxh5,Re8,Nef3,d3,Re1,Rxe1+,Nxe1,Qe7,Kf1,g6,Qf3,h5,Bf4,Bc5,Ne4,Bb4,Bg5,Qe5,Qf4,Qxb2,Qb8+,Bf8,Qc8', 'Qe2+,Kg1,Qxe1#', 'https://lichess.org/training/YP6lk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPAWz', 'Blitz', 'Deytsev', 1583, 'OneMoveOneThought', 1603, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,d6,d3,Be6,Bxe6,fxe6,O-O,Nf6,Nh4,Be7,Ng6,Rg8,f4,Kf7,f5,exf5,exf5,Qd7,Qf3,Nd4,Qd1,Nxf5,Nxe7,Nxe7,Qf3,Rgf8,Bxh6,gxh6,Qxf6+,Kg8,Qxh6,Qg4,Ne4,Nf5,Nf6+,Rxf6,Qxf6,Rf8,Qe6+,Kh8,Rf3,Rg8,Qf6+,Rg7,Rh3+,Kg8,Qd8+,Kf7,Qxc7+,Ke6,Qc8+,Kd5,Qc4+,Qxc4,dxc4+,Kxc4,Rf1,Nd4,b3+,Kd5,c4+,Ke6,Rh6+,Kd7,Rff6,Kc7,Rxd6,Ne2+,Kf1,Nf4,Rd2,e4,Rh4,Rf7,Ke1,Nd3+,Kd1', 'Rf1+,Kc2,Rc1#', 'https://lichess.org/training/yPAWz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ypb71', 'Classical', 'febarredo', 1820, 'T4RUMB4', 1873, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Qe2,d5,Bb3,Bg4,Qb5+,Nc6,Nxe5,Nxf2,O-O,Bd7,Nxd7,Qxd7,Rxf2,Nd4,Qxd7+,Kxd7,Rxf7+,Kc6,Rf2,Nxb3,axb3,Bc5,d3,Bxf2+,Kxf2,Rhf8+,Kg1', 'Rae8,Bd2,Re2', 'https://lichess.org/training/ypb71');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YpBHV', 'Rapid', 'john1981', 1743, 'truthadjustr', 1954, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d5,e3,O-O,cxd5,Nxd5,Bd3,c5,O-O,cxd4,exd4,Bg4,Be3,Nxe3,fxe3,Bh6,Re1,e5,h3,exd4,exd4,Bxf3,Qxf3,Qxd4+,Kh1,Nc6,Qe4,Rad8,Rad1,Qxe4,Nxe4,Nb4,Bb1,Nd5', 'Rxd5,Rxd5,Nf6+,Kh8,Nxd5', 'https://lichess.org/training/YpBHV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPBYp', 'Blitz', 'bigpyot', 1718, 'ED_84', 1680, 'd4,b6,c4,Bb7,Nc3,g6,e4,Bg7,f4,d6,Nf3,Nf6,Qc2,O-O,Be2,Nfd7,O-O,Nc6,d5,Nb4,Qd2,Na6,a3,e6,Qc2,c5,Re1,exd5,cxd5,Nc7,Be3,b5,Rad1,a5,Nxb5,Nxb5,Bxb5,Ba6,Bxa6,Rxa6,Bd2,Rb6,Bc3,Bxc3,bxc3,Qb8,e5,dxe5,fxe5,Rb2,Qe4,Re8,e6,fxe6,dxe6,Nf6,Qe5,Qxe5,Rxe5,Rc2,e7,Rxc3,Rd8,Kf7,Ng5+,Kg7,Rxe8,Nxe8,Ne6+,Kf6,Re2,Kxe7,Nc7+,Kd7,Nxe8,Rxa3,Nf6+,Kd6,Nxh7,c4,Rc2,Kc5,Nf6,Kd4,Nd7,c3,Kf2,Kd3,Rc1,Ra2+,Ke1,Re2+,Kd1', 'c2+,Rxc2,Rxc2,Ne5+,Kc3', 'https://lichess.org/training/yPBYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPd8F', 'Rapid', 'Qray212', 2207, 'shivam-11', 2309, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nc3,e6,Nf3,Nc6,Be2,Bb4,O-O,O-O,a3,Be7,Bg5,h6,Bh4,Ng4,Bxe7,Qxe7,h3,Nf6,Re1,Qd7,Qd3,Re8,Rad1,e5,d5,Ne7,Qc2,Qd6,Nb5,Qb6,Nxe5,Nexd5,cxd5,Rxe5,a4,Rf5,Bc4,Bd7,b3,c6,Nd6,Rg5,dxc6,Qxc6,Nxf7', 'Qxg2#', 'https://lichess.org/training/yPd8F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YPEjA', 'Rapid', 'blue_cactus', 1681, 'Conbop', 1679, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,Nxc6,Bxe3,fxe3,Qxb2,Nd2,dxc6,Bc4,Nf6,O-O,Qe5,Rb1,b5,Bb3,Bg4,Qe1,O-O,h3,Bh5,Rf5,Qe7,Qh4,Bg6,Rg5,Bxe4,Nxe4,Nxe4', 'Rxg7+,Kxg7,Qxe7', 'https://lichess.org/training/YPEjA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YPEnX', 'Blitz', 'scindapsus', 1903, 'derkrieger1914', 1960, 'd4,c5,Bf4,e6,e3,cxd4,exd4,Nf6,c3,Be7,Nf3,b6,Bd3,Bb7,Nbd2,O-O,Qc2,d5,h3,Nc6,O-O,Bd6,Bxd6,Qxd6,Rfe1,a6,Ne5,Nxe5,dxe5,Qe7,exf6,Qxf6,Nf3,Rac8,Bxh7+,Kh8,Bd3,d4,Qd2,Bxf3,gxf3,Qxf3,Kh2,Rc5,cxd4,Rh5,Re3', 'Rxh3+,Kg1,Qh1#', 'https://lichess.org/training/YPEnX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPfoh', 'Rapid', 'yt-avarac', 1779, 'marcomar', 1807, 'b3,g6,Bb2,Nf6,Bxf6,exf6,c4,Bg7,Nc3,O-O,g3,c6,Rc1,Qa5,Bg2,f5,a4,d5,cxd5,Bxc3,Rxc3,cxd5,Qc2,Nc6,Rc5,Qa6,Bxd5,Nd4,Qc4,Qxc4,Bxc4,b6,Rc7,Nc2+,Kf1,Nd4,e3,Ne6,Bxe6,Bxe6,Rc3,Rad8,d4,Bd5,f3,Rfe8,Kf2,h5,Ne2,Rc8,Rhc1,Rb8,b4,a5,bxa5,bxa5,Rc5,Bb3,Rxa5,Rb4,Ra7,Bxa4,Rcc7,Bb3,Rab7,Rb8,Ra7,Be6,Nf4,Rb2+,Ne2,Kg7,e4,fxe4,fxe4,Rf8,Ke3,Bg4,Nc3,Rxh2,Nd5,Be6,Nf4,Bg4,Ra6,Kg8,Nxg6,fxg6,Raa7,Rb8,Rg7+,Kf8,Rgf7+,Ke8,Rh7,Rb3+,Kf4,Rf2+,Kg5,Rb5+,Kxg6,Rb6+,Kg5,Rd6,d5,Bc8,Kxh5,Rh2+,Kg5,Rxh7,Rxh7,Rd8,Rh8+,Kd7,Rxd8+,Kxd8,g4,Ke7,Kf4,Kf6,e5+,Kg6', 'e6,Kf6,g5+', 'https://lichess.org/training/yPfoh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPGRp', 'Blitz', 'Basilozdgreat', 1642, 'kotegmsk', 1630, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,a6,Ba4,b5,Bb3,a5,a3,a4,Ba2,Nf6,Bg5,e5,dxe5,Nxe5,Nxe5,Bd6,Nc6,Qb6,Bxf6,gxf6,Qe2+,Be6,Bxd5,O-O,Bxe6,Rfe8,O-O,Rxe6,Qg4+,Kh8,Qf3,Rc8,Nb4,Bxb4,axb4,Rxc2,Nc3,Rxb2,Nd5,Qd4,Rfd1,Rd2,Rxd2', 'Qxa1+,Rd1,Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/yPGRp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yphHn', 'Rapid', 'lapins', 1648, 'FacundoTejedor', 1757, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Nf6,Nxc6,bxc6,Nd2,O-O,Bd3,Re8,O-O,d5,b4,Bb6,exd5,cxd5,Bb5,Bd7,a4,c6,Bd3,Qc7,Nf3,a5,Ng5,h6,Nf3,Bg4,h3,Bd7,Nh4,Ne4,Bxe4,Rxe4,Qh5,Rae8,Bxh6,gxh6,Qxh6,R8e6,Qg5+,Kf8,Nf5,Rg6,Qh5,Bxf5,Qxf5,Re5,Qf3,Qe7,Kh1,Qf6,Qd3,Qg5,g3,Bxf2,Rxf2,Qxg3,Qxg3,Rxg3,Raf1,Rxh3+,Kg2,Rxc3,Rxf7+,Ke8,Rf8+,Ke7,R1f7+,Ke6,Rf6+,Kd7,R8f7+,Ke8,Ra7,axb4,Rh6,Re7', 'Rh8+,Kf7,Rh7+', 'https://lichess.org/training/yphHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YpIF5', 'Rapid', 'Chess_fan321', 2001, 'Nader_1352', 1991, 'd4,d5,c4,c6,Nc3,e6,e3,Nf6,Nf3,Be7,Bd3,O-O,O-O,c5,dxc5,Bxc5,cxd5,Nxd5,Nxd5,Qxd5,Qc2,h6,Rd1,Qc6,a3,Be7,Qe2,Bf6,Rb1,Rd8,Bd2,e5,Bc3,e4,Bb5,Rxd1+,Rxd1,Qb6,Nd4,a6,Bc4,Nc6,Qh5,Ne5,Ba2', 'Bg4,Qxg4,Nxg4', 'https://lichess.org/training/YpIF5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YPIS2', 'Blitz', 'abdullah1500', 1590, 'Tom_Sawyer_Rush', 1568, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,a6,Ba4,Bc5,c3,b5,Bb3,O-O,Re1,Bb7,d4,exd4,cxd4,Ba7,Bg5,d6,Nc3,Na5,Bc2,Nc4,b3,Nb6,Qb1,Nbd7,e5,dxe5,dxe5,Bxf3,gxf3,Nxe5,Rxe5,Qd4,Bxf6', 'Qxf2+,Kh1,Qxf3#', 'https://lichess.org/training/YPIS2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ypiWx', 'Rapid', 'sarwajeet', 1668, 'MAKS7755', 1668, 'e4,c5,Nf3,e6,Bc4,a6,d3,g6,a3,Bg7,Nc3,b5,Ba2,Ne7,O-O,O-O,Be3,Qc7,Qd2,b4,axb4,cxb4,Bh6,bxc3,bxc3,Bxc3,Qe2,Re8,Ng5,f6,Nf3,Bxa1,Rxa1,d5,exd5,exd5', 'Bxd5+,Kh8,Bxa8', 'https://lichess.org/training/ypiWx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YPJMV', 'Rapid', 'Texas-Chess', 1807, 'Maartenols', 2010, 'e4,d6,d4,Nf6,Nc3,Nbd7,Bc4,e5,dxe5,dxe5,Nf3,h6,O-O,c6,Qe2,Qc7,a4,Be7,a5,g5,h3,Rg8,Nh2,Nf8,Qf3,Ng6,Ng4,Nxg4,Qxf7+,Kd8,Qxg8+,Nf8,Rd1+,Bd7,Be6,Nf6,Qf7,Nxe6,Qxe6,Ke8,Qc4,g4,Nd5,Qd6,Nxf6+,Qxf6,Qg8+,Bf8,Be3,gxh3,Bc5,Be6,Qxf8+,Qxf8,Bxf8,Kxf8,Rd6,Ke7,Rad1,hxg2,Kxg2,Rg8+,Kf1,h5,a6,Bc4+,Ke1', 'Rg1+,Kd2,Rxd1+,Kxd1,Kxd6,axb7,Kc7,b8=R,Kxb8', 'https://lichess.org/training/YPJMV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPJRh', 'Rapid', 'gabrielse', 1626, 'Ambassador1', 1703, 'e4,d6,d4,Bd7,Nc3,e6,Nf3,h6,Bc4,Be7,Be3,a6,a3,Nc6,d5,Na5,Bd3,e5,O-O,Bg4,h3,Bh5,Be2,Nf6,Qd2,b5,Rfe1,Bg6,Nh4,Bxe4,Nxe4,Nxe4,Qxa5,Bxh4,g3,Bg5,Qb4,f5,Bh5+,Kf8,Bxg5,hxg5,g4,Qf6,gxf5,Qxf5,Qxe4,Qxh3,Bg4,Qh2+,Kf1,Ke7,Qf5,Qh1+,Ke2,Qxd5,Qxg5+,Kf7,Bh5+,Kg8,Rg1,Qe4+,Kf1,Qc4+,Be2,Qf7,b3,Rh5,Qg2,Rf5,a4,Rf8,f3,e4,axb5', 'exf3,Qxg7+,Qxg7,Rxg7+,Kxg7', 'https://lichess.org/training/yPJRh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YplD1', 'Rapid', 'animeanime', 1762, 'BrunoMarscio', 1713, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,f4,Nbd7,O-O,Be7,b3,b5,Bb2,Bb7,Qe2,Qb6,Qf2,O-O,Rae1,Rfe8,e5,dxe5,fxe5,Ng4,Qxf7+,Kh8,Nd1,Ngxe5,Qxe6,Qxe6,Nxe6,Nxd3,cxd3,Bb4,Bxg7+,Kg8,Re2,Rxe6,Rxe6,Kxg7,Rf4,Bc5+,d4,Bb4,Ne3,Rf8,Nf5+,Kf7,Re2,Kg6,Ne7+', 'Bxe7,Rxe7,Rxf4', 'https://lichess.org/training/YplD1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yploR', 'Classical', 'MateoC22', 1759, 'SnakyDave', 1665, 'e4,e6,d4,d5,Nc3,c5,dxc5,Bxc5,exd5,exd5,Qxd5,Qd7,Qxc5,Nf6,Bb5,Nc6,Bxc6,bxc6,Nf3,Qe6+,Be3,Nd7,Qd4,O-O,O-O,Rb8,Ng5,Qg6,b3,Nf6,Qxa7,Bf5,Qa5,h6,Nf3,Bh3,Nh4,Qg4,f3,Qxh4,gxh3,Qxh3,Ne2,Rfe8,Nf4,Qh4,Qd2,Rbd8,Qc1,g5,Bf2,Qxf4,Qxf4,gxf4,Kh1,Rd2,Bh4', 'Ree2,Rf2,Rxf2,Bxf2,Rxf2', 'https://lichess.org/training/yploR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YpM1E', 'Blitz', 'cetchmoh', 1540, 'jensdani', 1564, 'e4,e5,f4,exf4,Bc4,d5,Bxd5,c6,Bb3,Nf6,Nc3,Qe7,d3,Bg4,Nf3,Nbd7,h3,Bh5,Bxf4,O-O-O,O-O,Qc5+,Kh1,Bd6,Bxd6,Qxd6,Bxf7,Bxf7,Ng5,Bg6,Qg4,Kb8,Rae1,Qb4,Qe2,Qxb2,Na4,Qb5,Nc3,Qb4,Qd2,Nc5,Rb1,Qd4,Rb2,Nfxe4,Ngxe4,Nxe4,Qf4+,Ka8,dxe4,Qxc3,Rfb1,Rd7,Rb3,Qc4,Qe3,Qxe4,Qc5,Rb8', 'Qxa7+,Kxa7,Ra3+,Qa4,Rxa4#', 'https://lichess.org/training/YpM1E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YpM6X', 'Rapid', 'nik_siv', 1711, 'zegroid', 1684, 'e4,e5,Bc4,Qh4,d3,Bc5,g3,Qf6,Nf3,d6,Bg5,Qg6,h4,h6,h5,Qh7,Bd2,Nf6,Nc3,Bg4,Qe2,Nc6,Be3,Nd4,Bxd4,Bxd4,Nb5,Kd7,Nbxd4,exd4,O-O-O,Nxh5', 'Ne5+,dxe5,Qxg4+', 'https://lichess.org/training/YpM6X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YPnjt', 'Rapid', 'FIGHTINGFURY', 2070, 'Soma_Badasheshi', 1832, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,d5,Bb5,Nd7,Bxc6,bxc6,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O,c5,Nc3,cxd4,Qxd4,c6,Rac1,Bb7,Na4,Re8,Nc5,Nxc5,Qxc5,Qb6,Qc3,Rac8,Nh4,c5,Nf5,Re6,Nd6,Rc7,f4,d4,Qd2,Bd5,h3,c4,Qf2,Rg6,g4,d3,Qxb6,axb6,Nf5,b5,Kf2,Rgc6,Nd4,Rc5,Ke3,Bg2,Rg1,Bxh3,Rg3,d2,Kxd2,Rd5,Kc3,Rcd7,Nf3,Rd3+,Kb4,Bg2,Rxg2,Rxf3,f5,Rd5,Re2,Rf4,Rg1,c3+,Kxc3', 'Rc4+,Kb3,Rd3#', 'https://lichess.org/training/YPnjt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ypOiI', 'Classical', 'Shura_Kirigakure', 2412, 'arabian_Night', 2480, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,Bg5,Be2,O-O,O-O,Ne7,Nc2,Nxd5,Qxd5,Be6,Qd3,d5,Rad1,dxe4,Qxe4,Qc7,Nb4,f5,Qc6,Qxc6,Nxc6,Bxa2,Nxe5,Rae8,f4,Bxf4,Rxf4,Rxe5,Bf3,Bc4,Ra1,Rf6,Bb7,a5,Rxa5', 'Re1+,Kf2,Rf1+,Ke3,Re6+', 'https://lichess.org/training/ypOiI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YpouX', 'Rapid', 'neset_2014', 1869, 'Pedro1965', 1866, 'b3,e5,Bb2,Nc6,e4,d5,exd5,Qxd5,Ne2,Bf5,Nbc3,Qd8,d3,Nd4,Nxd4,Qxd4,Na4,Qd6,Qe2,f6,Nc3,O-O-O,O-O-O,Ne7,h3,Ng6,g3,Bd7,Bg2,Bc6,Bxc6,Qxc6,Ne4,Be7,Kb1,Rhf8,h4,h6,h5,Nh8,f3,Nf7,f4,exf4,gxf4,Rd5,Qg4+,f5,Qxg7,fxe4,dxe4,Rxd1+,Rxd1,Qxe4,Bf6,Bxf6', 'Qxf8+,Bd8,Qxf7', 'https://lichess.org/training/YpouX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPph2', 'Rapid', 'staunton0302', 1758, 'Rail08', 1833, 'd4,d5,c4,c6,Nc3,Nf6,e3,a6,Nf3,b5,cxb5,cxb5,a3,Bb7,Ne5,Nbd7,Qb3,e6,Bd3,Qc7,Nxd7,Nxd7,Bd2,Bd6,h3,O-O,Rc1,Rac8,O-O,Qb8,Qd1,Nb6,Qh5,g6,Qf3,Nc4,Bxc4,dxc4,Qf6,Rfe8,e4,Be7,Qf3,Qa8,Bh6,Red8,Qe3,Bf6,Rcd1,Rd7,Rd2,Rcd8,Rfd1,Qa7,e5,Bg7,Bxg7,Kxg7,h4,Qa8,g4,Bf3,Qf4,Bxd1,Rxd1,Qa7,Ne2,h6,g5,h5,Qf6+,Kg8,Nf4,Rxd4,Rxd4,Rxd4,Nxe6,Rg4+,Kf1,fxe6,Qxg6+,Qg7,Qxe6+,Kh8', 'Qe8+,Kh7,Qxh5+', 'https://lichess.org/training/yPph2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPqII', 'Classical', 'EfimovA', 1694, 'KESHAVARORA', 1773, 'e4,c6,d4,d5,Nc3,dxe4,Bc4,Nf6,Bg5,Bg4,Nge2,Nbd7,O-O,e6,Qd2,Bb4,Qf4,O-O,Ng3,Bf5,Ncxe4,Bxe4,Nxe4,Be7,Qf3,Qb6,b3,Qxd4,Bd3,Rfe8,Rad1,Qb6,Nxf6+,Nxf6,Bxf6,Bxf6,Qh3,g6,Rfe1,Bd4,Rd2,Bc3,Bxg6,hxg6,Re4,Bxd2,Rh4,Bh6,Rxh6,Qd4,g3,Rad8,Rh4,Qf6,Rf4,Qa1+,Kg2,Qxa2,Qg4,Qxc2,Qf3,Rd3,Qe4,Red8,Qe5,R3d5,Qf6,R5d7', 'Rh4,Qe4+,Rxe4', 'https://lichess.org/training/yPqII');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ypqPK', 'Blitz', 'tesio', 1704, 'bruno-dillen', 1714, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nf6,Bd3,Nc6,a3,e6,f3,Bd6,Nge2,h6,Be3,O-O,O-O,Re8,Bb5,a6,Bxc6,bxc6,Bf4,c5,Bxd6,Qxd6,dxc5,Qxc5+,Kh1,Bb7,Nd4,Rad8,Qd3,e5,Nb3,Qe7,Rae1,d4,Ne4,Rc8,Nxf6+,Qxf6,Na5,Bd5,c4,Be6,b3,Bf5,Qd2,Bg6,Qb4,Rb8,Qc5,Qf4,Nc6,Rxb3,Nxe5,Rxe5,Rxe5,Bd3,Rfe1,Rc3,Re8+,Kh7,Qf8,Rc1,Qg8+,Kg6,Kg1,Bxc4,Re4,Rxe1+,Rxe1,d3,Qd8,d2,Rd1', 'Qe3+,Kh1,Qe1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/ypqPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YPQs9', 'Blitz', 'Sudansonsembiring', 1665, 'MiroTesla', 2163, 'e4,d6,d4,Nf6,Bd3,e5,dxe5,dxe5,Bb5+,Bd7,Bd3,Be7,h3,O-O,Nf3,a5,O-O,Nc6,Be3,Qc8,Kh2,Rd8,Qe2,b6,Nbd2,Be6,b3,Nd4,Bxd4,exd4,e5,Nd5,Qe4,g6,Nh4,c5,Ndf3,Nc3,Qe1,Qc7,g3,Bd5,Qd2,Bxh4,Nxh4,Qxe5,Rae1,Qd6,Qg5,Re8,Nf5,Qd8,Nh6+,Kg7,Qd2,Rxe1,Rxe1,Qf6,f4,Bb7,Ng4,Qc6,Ne5,Qd5', 'Bc4,Qg2+,Qxg2,Bxg2,Kxg2', 'https://lichess.org/training/YPQs9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPRgj', 'Rapid', 'Aruiz', 1895, 'nuri2834', 1865, 'd4,h6,e4,g6,c4,d6,Nc3,c6,Nf3,Bg7,d5,e5,Be2,Nf6,Be3,O-O,Qd2,Kh7,h4,Ng4,O-O-O,Nxe3,Qxe3,c5,g4,Bxg4', 'Ng5+,hxg5,hxg5+', 'https://lichess.org/training/yPRgj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YpRZi', 'Rapid', 'Morganhombrelibre', 2170, 'The_Illumined', 2136, 'c4,e5,Nc3,d6,g3,Nc6,Bg2,f5,e4,Nf6,Nge2,Be7,O-O,O-O,d4,Qe8,d5,Nd8,Nb5,Qd7,exf5,a6,Nbc3,Qxf5,f4,Nf7,fxe5,Qxe5,Bf4,Qh5,Nd4,Bg4,Bf3,Ne5,Bxe5,dxe5,Ne6,Qh3,Nxf8,Rxf8,Bxg4', 'Nxg4,Rxf8+,Bxf8,Qe2,Bc5+', 'https://lichess.org/training/YpRZi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YPsJx', 'Classical', 'IvanKolmakov', 1957, 'freehumanity', 2217, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,Nf3,c6,Nc3,Bg4,Bf4,N8d7,h3,Bxf3,Qxf3,dxe5,dxe5,e6,Rd1,Bb4,a3,Bxc3+,Qxc3,Qc7,Be2,f6,exf6', 'Qxf4,fxg7,Rg8', 'https://lichess.org/training/YPsJx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YpsZS', 'Rapid', 'Genival10', 1631, 'bluewolf7', 1696, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,Bg4,Be2,Bxe2,Qxe2,e5,Nf5,g6,Ng3,Bg7,O-O-O,O-O,h4,h5,Bg5,Nd4,Qd3,a5,Nd5,b5,Nxf6+,Bxf6,Bxf6,Qxf6,f3', 'Qf4+,Rd2,Qxg3', 'https://lichess.org/training/YpsZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ypt3C', 'Blitz', 'bannartel', 2395, 'BughouseKnight', 2508, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,d4,b5,Bb3,d5,dxe5,Be6,c3,Bc5,Qe2,O-O,Be3,Qe7,Bxc5,Nxc5,Bc2,Bg4,Re1,Rae8,Nbd2,d4,cxd4,Nxd4,Qd1,Nce6,Be4,Ng5,Qb1,Ndxf3+,Bxf3,Nxf3+,Nxf3,Bxf3,gxf3,Qg5+,Kh1,Rxe5,Rg1,Qh5,Rg3,Rfe8,Qg1,g6,Rc1,c5,Qd1,Re2,Qd7,Kg7,Kg2,Qe5,b3,Qb2,Rf1,Qxa2,h4,Qxb3,h5,Qe6,Qb7,c4,Qc7,Re7,Qf4,c3,h6+,Kg8,Rd1,Re8,Rd6,Rxf2+,Kxf2,Qe1+,Kg2,Re2+,Kh3', 'Qh1+,Kg4,Qh5#', 'https://lichess.org/training/Ypt3C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPt8T', 'Rapid', 'Rouk8977', 1813, 'MariaDeva', 1786, 'e4,g6,Nf3,Bg7,d4,d6,c3,a6,Bc4,b5,Bd5,c6,Bb3,Bb7,Ng5,e6,Qf3,Qf6,Qg3,h6,Nf3,Qe7,a4,Nd7,axb5,axb5,Rxa8+,Bxa8,O-O,Ngf6,Re1,O-O,Qh4,g5,Bxg5,hxg5,Nxg5,c5,e5,dxe5,dxe5,Nxe5,Rxe5,Qb7,f3,Qc7,Re3,Qa7,Bc2,Rd8,Re1,c4+,Kh1,Qa2,Re2,Bh6,Qxh6', 'Qxb1+,Bxb1,Rd1+,Re1,Rxe1#', 'https://lichess.org/training/yPt8T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ypTn5', 'Rapid', 'PatrikV', 1669, 'Mr_Fawzy', 1639, 'e3,e5,Qf3,Nc6,Bc4,Qe7,Nc3,Nf6,Nd5,Nxd5,Bxd5,d6,Bxc6+,bxc6,Qxc6+,Qd7,Qxa8,Be7,Qxa7,O-O,Ne2,Qg4,h3,Qxg2,Rg1,Qxh3,Qxc7,Bh4,Qxd6,Qh2,Rf1,Bh3,Ng3,Bxg3,fxg3', 'Qxg3+,Rf2,Qg1+', 'https://lichess.org/training/ypTn5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPuu7', 'Classical', 'cartem', 1825, 'platonovich', 1921, 'd4,e6,Nf3,d5,c4,c6,e3,Bb4+,Bd2,Bxd2+,Nbxd2,Ne7,Bd3,dxc4,Bxc4,b5,Bb3,a5,a4,Ba6,axb5,Bxb5,Bc4,O-O,Bxb5,cxb5,O-O,Nbc6,Qb3,Qb8,Ne4,a4,Qd3,Nd5,Nc5,Ncb4,Qe4,Nf6,Qh4,Nc2,Rac1,Nb4,Ne5,a3,bxa3,Rxa3,Ned7,Nxd7,Nxd7,Qd6,Nxf8,Qxf8,Rb1,Ra4,Qe4,Nd5,Rb3,b4,g3,Ra3,Rxa3,bxa3,Ra1,h6,Qd3,Qb4,Rxa3,f5,Kg2,Nf6,Qb3,Qd6,Ra8+,Kh7,Qa3,Qd5+,f3,e5,Ra5,Qc6,Rxe5,Qc2+,Kh3,Qe2,Qc1,Qxf3,Qg1,Ne4,Rxe4,Qxe4,Qf2,g5,Qg2,Qxe3,Qb7+,Kg6,Qc6+,Kh5,Kg2,Qe2+,Kg1,Qe3+,Kg2,Qxd4', 'Qe8+,Kg4,h3#', 'https://lichess.org/training/yPuu7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ypV34', 'Rapid', 'Ahadizade', 1762, 'tommytommy43', 1679, 'b3,c6,Bb2,d5,Nf3,Nd7,e3,Ngf6,c4,g6,d4,Bg7,Be2,dxc4,Bxc4,O-O,Nc3,Nb6,Qe2,Nbd5,O-O-O,Bf5,Ne5,Ne4,g4,Nexc3,Bxc3,Nxc3,Qf3,Nxd1,gxf5,Nc3,fxg6,hxg6', 'Bxf7+,Rxf7,Qxf7+,Kh7,Qxg6+', 'https://lichess.org/training/ypV34');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPvEx', 'Rapid', 'jaitak', 1739, 'a_stoykov86', 1843, 'c4,Nf6,b3,g6,Bb2,Bg7,Qc2,O-O,Nc3,d6,a3,e5,e3,Bf5,e4,Bd7,h3,Nc6,Be2,Nd4,Qd1,c6,Nf3,Nxe2,Qxe2,Nh5,g3,f5,d3,f4,g4,Nf6,Nh2,Rf7,f3,Qb6,Qc2,Re8,h4,d5,h5,gxh5,gxh5,Nxh5,O-O-O,Ng3,Rhg1,Qe3+,Kb1,Qb6,exd5,cxd5,Nxd5,Qa5,Nf1,Nf5,Qh2,Bc6,b4,Qa4,Rc1,Bxd5,cxd5,Nd4,Qh5,Ne2,Rxg7+,Rxg7,Re1,Nd4', 'Bxd4,Qb3+,Bb2', 'https://lichess.org/training/yPvEx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPWy0', 'Rapid', 'one0one', 1776, 'cervantez', 1774, 'e4,d5,exd5,Nf6,Bc4,Nxd5,Bxd5,Qxd5,Nf3,Bg4,Nc3,Qc6,d3,Nd7,Be3,a6,Qe2,O-O-O,h3,Bh5,O-O-O,Ne5', 'Nxe5,Bxe2,Nxc6,Bxd1,Nxd8', 'https://lichess.org/training/yPWy0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ypXeB', 'Rapid', 'davor1508', 1672, 'caravelle-60', 1600, 'd4,d5,c4,Nf6,Nc3,Be6,Bg5,Ne4,Nxe4,dxe4,d5,Bf5,e3,h6,Bf4,g5,Be5,f6,Qh5+,Kd7,Bd4,Qe8,Qd1,a5,c5,c6,Qa4,Kc7,d6+,exd6,cxd6+,Bxd6,Bxf6,Rh7,O-O-O,Nd7,Bd4,Be5,Kb1,Qe6,Bc4,Qd6,Bb6+', 'Nxb6,Rxd6,Nxa4', 'https://lichess.org/training/ypXeB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ypxxd', 'Blitz', 'ArneHomann', 2086, 'yeminimVar', 2152, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bb4+,Nc3,Nc6,e3,Ngxe5,Bd2,O-O,Be2,Nxf3+,Bxf3,Ne5,Be2,c6,O-O,d5,cxd5,cxd5,Nb5,Bxd2,Qxd2,a6,Nd4,Nc4,Qb4,a5,Qb5,Be6,Nxe6,fxe6,Bxc4,dxc4,Rfd1,Qh4,f3,Rf6,e4,Raf8,Qe5,Rg6,Kh1,Qf2,Rg1,Rxf3,gxf3', 'Qxf3+,Rg2,Qxg2#', 'https://lichess.org/training/ypxxd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPy5y', 'Classical', 'samet_basarslan', 2064, 'Vitalii1975', 1872, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nf6,Nc3,O-O,Na4,Be7,Bxc6,dxc6,Nc3,Bg4,h3,Bh5,d3,h6,g4,Nxg4,Nxe5,Nf6,Ng4,Kh8,f4,Qd7,f5,Bd6', 'Nxf6,Bxd1,Nxd7', 'https://lichess.org/training/yPy5y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPywt', 'Blitz', 'FM Strelok2222', 2500, 'shahruh94', 2506, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,cxd4,cxd4,Qb6,Nf3,f6,exf6,Nxf6,O-O,Bd6,Bf4,Bxf4,Nxf4,Bd7,Re1,O-O,g3,Rae8,Qd2,Qb4,Qxb4,Nxb4,Ne5,Nxd3,Nfxd3,Bb5,Nf4,g5,Ng2,Ne4,f4,Rc8,Rac1,h6,b3,a5,Ng6,Rxc1,Rxc1,Rd8,Ne5,a4,Rc7,axb3,axb3,Ra8,Ne3,Ra1+,Kg2,Ra2+,Rc2,Ra3,N3g4,gxf4,Rc7,Ra2+,Kh3,Nf2+,Nxf2,Rxf2,Ng4,Bf1+,Kh4,fxg3,hxg3,Rf3,Ne5,Rxb3,Kh5,Rxg3,Rxb7,Bd3,Kxh6,Bf5', 'Rb8#', 'https://lichess.org/training/yPywt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ypz46', 'Rapid', 'bimbociccione', 1979, 'Gilkafka10', 1964, 'c4,Nf6,Nc3,e5,g3,c5,Bg2,d6,d3,Be6,e4,g6,Nge2,Bg7,f4,exf4,Nxf4,Bg4,Qc2,Nc6,Be3,Nh5,O-O,Nxf4,gxf4,O-O,Bf3,Bxf3,Rxf3,Bd4,Qg2,f5,Nd5,fxe4,dxe4,Bxe3+,Rxe3,Nd4,Qh3,Nc2,Qe6+,Rf7,Rae1,Qd7', 'Nf6+,Kg7,Nxd7', 'https://lichess.org/training/Ypz46');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yPZcA', 'Rapid', 'jipavl', 1837, 'danrad', 1870, 'd4,d5,c4,e6,Nf3,Nf6,g3,Be7,Bg2,O-O,O-O,dxc4,Qc2,Nc6,Qxc4,a6,Nc3,Bd7,e4,b5,Qe2,b4,Nb1,Na5,h3,Bb5,Qc2,Bxf1,Bxf1,c5,Be3,cxd4,Nxd4,Rc8,Qe2,Nxe4,Bg2,Nc5,Nd2,e5,Nf5,g6,Nxe7+,Qxe7,Nf3,Nab7,Rd1,f6,Qc4+,Qf7,Qxb4,Qxa2,Nxe5,fxe5', 'Bd5+,Qxd5,Rxd5', 'https://lichess.org/training/yPZcA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yq1KJ', 'Rapid', 'Aiso', 1873, 'SaltyCrocodile', 1906, 'e4,c5,a3,e6,b4,d5,exd5,cxb4,axb4,Qxd5,c4', 'Qe5+,Be2,Qxa1', 'https://lichess.org/training/Yq1KJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQ29R', 'Rapid', 'Leblon73', 1603, 'bagel34BC', 1614, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,Bg4,c3,e6,Nbd2,Bd6,Bg3,Bxg3,hxg3,O-O,Bd3,h6,Qc2,Qd6,Be2,Bf5,Bd3,Bg4,Qd1,a5,Bb1,a4,Qc2,a3,b3,Bf5,Qd1,Ne4,Nxe4,dxe4,Nh4,Bh7,g4,g5,Bc2,gxh4,Rxh4,f5,g5,hxg5,Rh6,Qe7,Qh5,Rf6', 'Qxg5+,Bg6,Rxg6+,Rxg6,Qxg6+', 'https://lichess.org/training/YQ29R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yq2GC', 'Rapid', 'masstrel', 2104, 'Cryo426', 1948, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,Bxf7+,Kxf7,Ne5+,Ke6,Qxg4+,Kxe5,d4+,Kxd4,O-O,d6,Qxf4,Bh6,Be3+,Kc4,b3+,Kb5,Nc3+,Ka6,Qf2,Bxe3,Qxe3,c5,Qd3+,Kb6', 'Qb5+,Kc7,Nd5#', 'https://lichess.org/training/Yq2GC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yq57i', 'Classical', 'Hamida', 1664, 'camomile_dzi', 1724, 'e4,e5,Bc4,Nf6,Nc3,c6,a3,d5,exd5,cxd5,Ba2,Nc6,Nf3,Bd6,d4,e4,Ne5,Bc7,Nxc6,bxc6,O-O,O-O,Na4,Ba6,Re1,Bb5,Nc3,Ba6,b4,Bb6,Bg5,Bc8,Ne2,Qd6,c4,Ng4,g3,h6,c5,Qg6,Be7,Qf5,Rf1,Qh5,h4,Bd8,Bxf8,Bxh4,Nf4,Qg5,Bd6,Bxg3,Nh3,Bxd6,Nxg5,hxg5,f3,Bh2+,Kh1,exf3,Qxf3,Bf4,Rae1,Nf6,b5,Bf5,bxc6,Be6,Bb1,Rc8,Qb3,Rxc6,Kg2,Rc8,Qb7,Re8,Rh1,g6,Qxa7,Bd2,Ref1,Nh5,Rxh5,gxh5,Rf6,Kg7,Rf1,Bf4,c6,Bg4,Qa4,Re2+,Rf2', 'Bh3+,Kxh3,Rxf2', 'https://lichess.org/training/yq57i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQ58j', 'Blitz', 'liakop', 1631, 'JMSGreen777', 1647, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe5+,Be7,Qxg7,Bf6,Qg4,d5,Qe2,dxe4,Qxe4+,Ne7,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O-O,Nc3,Rhg8,Be3,Qh3,g3,Nf5,Bxc5,Nxg3,fxg3,Bh4,Rf3,Bxg3,hxg3,Rg4,Qf5+,Kb8,Qe5+,Ka8,Ne4,f6,Qc7,Rb8,Rd1,Rxe4,Bf2,Qg4,Kg2,f5,Rd8,Re8,Rxe8,Rxe8,Qd7,Rg8,Rc3,Qe4+,Kh2,Qe8,Qxf5,Rf8,Qc5,b6,Qd5+,Kb8,Qd6+,Ka8,Qc6+,Kb8,Qd6+,Ka8,Rc7', 'Rxf2+,Kg1,Qe1#', 'https://lichess.org/training/yQ58j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQ6q2', 'Rapid', 'Robbiouk', 1882, 'boopt', 1908, 'd4,d5,Bf4,c5,e3,Nc6,Nf3,Bf5,c4,Nf6,Nc3,e6,Qb3,Qb6,cxd5,exd5,Ne5,Nb4,Bb5+,Nd7,Bxd7+,Bxd7,Nxd7,Kxd7,a3', 'Nd3+,Kd2,Qxb3', 'https://lichess.org/training/YQ6q2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQ6tx', 'Rapid', 'Haimis', 1718, 'billlee', 1662, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Qd5,e6,Qb3,Nf6,Bg5,Be7,Qc4,Nxe4,Qxe4,Qa5+,Nc3,Bxg5,Nxg5,Qxg5,Bb5,O-O,Bxc6,bxc6,Qxc6,Rb8,Ne4,Qxg2', 'Nf6+,Kh8,Qxg2', 'https://lichess.org/training/YQ6tx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yq6Yl', 'Rapid', 'mokoto', 1803, 'PedroFlor', 1811, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,c3,e6,Qa4,Qc7,O-O,Be7,Na3,Nf6,f3,O-O,Be3,a6,Bxc6,bxc6,Rfd1,e5,Ne2,Rfb8,Qc2,Be6,b3,h6,Qd2,d5,Ng3,Bxa3,Bxh6,g6,Bg5,Be7,f4,exf4,Bxf4,Bd6,Bxd6,Qxd6,Qg5,Kg7,e5,Qd8,exf6+,Qxf6,Qxf6+,Kxf6,Rf1+,Kg7,Rad1,Rd8,Ne2,Bg4,Rd2,Re8,Nd4,Rac8,h3,Bd7,Rdf2,Re7,Nf3,Rc7,Ng5,Bf5,g4,Be4,Nxe4,dxe4,Re1,Re6,Rfe2,Rce7,Re3,f5,gxf5,gxf5,Rf1,Rf6,Rg3+,Kf7,Rf4,e3,Rh4,e2,Rh7+,Ke8,Rxe7+,Kxe7,Re3+,Re6', 'Rxe6+,Kxe6,Kf2,e1=Q+,Kxe1', 'https://lichess.org/training/Yq6Yl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQ7cz', 'Rapid', 'wat1234', 1795, 'debyt2020', 1783, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Bd3,Bg4,O-O,e6,Bg5,Be7,h3,Bh5,Be2,O-O,c3,Rc8,Qd3,Bg6,Qd2,c5,Bd3,cxd4,Bxg6,hxg6,Nxd4,Qb6,Rab1', 'Ne4,Qe2,Nxg5', 'https://lichess.org/training/YQ7cz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQ7qE', 'Rapid', 'TheEgo23', 1968, 'Rotan42', 2046, 'd4,g6,c4,Bg7,Nc3,e6,Nf3,Ne7,e4,c6,Be3,O-O,Be2,b6,O-O,Bb7,Qd2,d6,Bh6,Nd7,Bxg7,Kxg7,b4,c5,bxc5,bxc5,d5,e5,Nb5,Nf6,Bd3,a6,Nc3,Bc8,Rab1,Bg4,Ne1,h5,f3,Bd7,Nc2,Nh7,Ne2,f5,exf5,Nxf5,Ne3,Nd4,Ng3,Rb8,Ne4,Rxb1,Rxb1,Rxf3,Nxd6,Rf6,Ne4,Rf4,Nxc5,Bf5,Bxf5,Qg5,Ne6+,Nxe6,Bxe6,Nf6,Rb7+,Kh6,d6,Ne4,Qe1,Rf2,Bh3,Rxa2,d7,Nd2,Qg3', 'Ra1+,Kf2,Ne4+', 'https://lichess.org/training/yQ7qE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQ8N1', 'Classical', 'PAWN_IN_ARMOR', 1737, 'KoryabkinSergey', 1694, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Bb5+,Bd7,Bxd7+,Qxd7,Nf5,Bf6,c4,Ne7,Nxe7,Qxe7,Nd2,Be5,Rb1,Nc6,Nf3,Bf6,a3,O-O,Qd3,Ne5,Nxe5,Qxe5,O-O,Bg5', 'f4,Qe7,fxg5', 'https://lichess.org/training/yQ8N1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQ9DM', 'Rapid', 'icantcan', 1943, 'MichaelNichols', 2032, 'd4,e5,c4,exd4,Qxd4,d6,Qd1,Be7,g3,Nf6,Bg2,c6,b3,O-O,Bb2,h6,Nd2,Nh7,Nh3,Bf6,Bxf6,Qxf6,Ne4,Qe5,O-O,Bf5,Qxd6,Qb2,Nf4,Na6,Qd2,Qe5,Nd3,Qe7,Qf4,Bg6,Qd6,Qe8,Qf4,Rd8,Rad1,Qe7,Rd2,Rfe8,f3,Nc7,Bh3,Bxe4,fxe4,Ng5,Bg2,Nxe4,Bxe4,Qxe4,Qxf7+,Kh8,Qxc7', 'Qe3+,Rf2,Qxd2', 'https://lichess.org/training/YQ9DM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yqAOP', 'Blitz', 'al_fakir', 1557, 'aslan_yusuf', 1546, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,Nf6,Bg5,d5,Bb5,Bd7,e5,cxd4,exf6,gxf6,Bh4', 'Qa5+,Nbd2,Qxb5,Bxf6,Rg8', 'https://lichess.org/training/yqAOP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQASQ', 'Rapid', 'Felixziehensack', 2133, 'Jeka1985', 2186, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,Nf6,Bg5,Qa5+,N1c3,Nxe4,Bd2,Nxd2,Qxd2,Bb4,Bc4,a6,Nd6+,Bxd6,Qxd6,Qb4,Qd5,O-O,O-O,Nd4,Ne4,d6,c3,Qxb2,Ng5,Ne6,f4,Nxg5,fxg5,Be6,Qd3,Bxc4,Qxc4,Rac8,Qd5,Rxc3,Rab1,Qe2,Qxd6,Rc2,Qd5,b5,Rbd1,Rxa2', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/yQASQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQASX', 'Classical', 'Den19987', 1822, 'Goldking64', 1945, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Ng4,Bd2,e5,Nb3,Be6,Be2,Nf6,O-O,Be7,h3,b5,a3,Nbd7,f4,Bxb3,cxb3,Nc5,Bf3,O-O,b4,Nd3,fxe5,Qb6+,Kh2,dxe5,Qe2,Rfd8,Rad1,Qc6,Be3,Qc4,Rd2,Rac8,Rfd1,Nxb2,Rxd8+,Bxd8,Rxd8+,Rxd8,Qxb2,Rd3,Be2', 'Qxc3,Qxc3,Rxc3', 'https://lichess.org/training/yQASX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQaxi', 'Rapid', 'ADRIAN0077', 2212, 'Kevin_Taylor', 2107, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nc6,Nf3,h6,Bb5,Nf6,Nxf6+,Qxf6,Ne5,Bd7,Nxd7,Kxd7,c3,a6,Ba4,Bd6,Be3,Rhe8,Qd2,Ke7,d5,exd5,Qxd5,Kf8,Bxc6,bxc6,Qxc6', 'Rxe3+,fxe3,Bg3+,hxg3,Qxc6', 'https://lichess.org/training/yQaxi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yqBDF', 'Rapid', 'Telecomlord', 1736, 'CheesyGambit', 1752, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,d3,d6,O-O,Bg4,Be3,a6,Nbd2,Na5,Bxf7+,Kxf7,Ng5+,Ke8,f3,Bd7,f4,h6,Ngf3,Bg4,h3,Bh5,g4,Bf7,fxe5,dxe5,Nxe5,Nc6,Nxf7,Kxf7,d4,Kg8,Qb3+,Kh7,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/yqBDF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQBFw', 'Rapid', 'eliseoluque', 1777, 'littlehorse', 1671, 'd4,e6,e4,d5,Nc3,dxe4,Nxe4,Nf6,Bg5,Be7,Bxf6,Bxf6,Nxf6+,Qxf6,c3,O-O,Nf3,b6,Bd3,Bb7,O-O,Nd7,Re1,c5,Bb5,Rad8,Bxd7,Rxd7,Ne5,Rd5,Qf3,Qg5,Qe3', 'Rxe5,Qxg5,Rxg5', 'https://lichess.org/training/YQBFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yqbrj', 'Rapid', 'Anjusrkr', 1678, 'Prince_is_back', 1970, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Be3,Qb6,Qb3,Qxb3,axb3,cxd4,cxd4,Nge7,Nf3,Nf5,Bb5,Bd7,Bxc6,bxc6,Nc3,c5,Na4,cxd4,Nxd4,Bb4+,Nc3,Nxd4,Bxd4,Bb5,f3,O-O,Kf2,a6,Rhc1,f6,g4,Kf7,Ra2,Rac8,Raa1,Bc5', 'Nxb5,Bxd4+,Nxd4,Rxc1,Rxc1', 'https://lichess.org/training/yqbrj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQca6', 'Rapid', 'mojuba', 1686, 'Gomorrah', 1736, 'd4,Nf6,Bf4,g6,c4,Bg7,Nf3,O-O,Nc3,d6,e4,c5,e5,dxe5,dxe5,Nh5,Bg5,Nc6,Nd5,Bd7,h3,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Bxe5,Qxh5,Bxb2,Bd3,f5,Qg6+,Kh8,Rb1,Ne5,Qh6+,Kg8,Nxe7+,Kf7,Qh5+,Ke6,Qh6+,Kf7,Qf6+,Ke8,Qd6,Bc3+,Kf1,Qb8,Qh6,Nf7,Qg6,Qd6,Bxf5', 'Bxf5,Qxd6,Nxd6', 'https://lichess.org/training/YQca6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQcj3', 'Rapid', 'Lautaro_Ceriani', 1765, 'CuSoup', 1777, 'e4,c6,d4,d5,exd5,cxd5,c4,Nc6,Nf3,Bg4,Nbd2,Nxd4,cxd5,Qxd5', 'Qa4+,Bd7,Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/YQcj3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yqCKk', 'Rapid', 'Ashot1919', 1837, 'ecemnazdemirr', 1851, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,h3,d6,a3,O-O,d3,Be6,Bg5,h6,Bh4,g5,Bxe6,fxe6,Bg3,Qe7,Qd2,Rad8,b4,Bd4,Rd1,Nh5,Ne2,d5,Nexd4,Nxd4,Nxd4,exd4,Be5,Nf4,O-O,c5,Bxf4,Rxf4,e5,Rdf8,Qe2,cxb4,axb4,Qxb4,Rb1,Qe7,Qh5,Rh4,Qg6+,Kh8,Kh2,Qc7,Qxe6,g4,Kg3,Qd8,Rxb7,gxh3,gxh3', 'Qg5+,Kh2,Qf4+', 'https://lichess.org/training/yqCKk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQdHd', 'Rapid', 'Gabo105', 1857, 'pmviva', 1809, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c4,Bf5,Nc3,e6,c5,Nf6,Bg5,Be7,Bb5,O-O,Bxc6,bxc6,b3,Ne4,Nxe4,Bxe4,O-O,Bxf3,Qxf3,Bxg5,a4,a5,g3,Rb8,h4,Bd2,Ra2,Bb4,Qd3,h6,Qa6,Qd7,Rd1,e5,Rc2,exd4,Rxd4,Qf5,Rc1,Qf6,Rdd1,d4,Rc4,d3,Rxd3,Rfe8,Rf4,Re1+,Kg2,Qb2,Rxf7,Kxf7,Qa7+,Kg8,Qxb8+,Kh7,Qf4,Bxc5', 'Qf5+,g6,Qxc5', 'https://lichess.org/training/yQdHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQDSL', 'Rapid', 'yassir85', 1731, 'Anton_1924', 1711, 'e4,d5,exd5,c5,Nc3,e5,Qf3,a6,Bc4,Nf6,Ne4,b5,Nxf6+,gxf6,d6,bxc4,Qxa8,Bxd6,d3,Qb6,dxc4', 'Bb7,Qxb7,Qxb7', 'https://lichess.org/training/yQDSL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQesW', 'Blitz', 'MilosTB', 2490, 'IM Nadtkins', 2461, 'd4,Nf6,Nf3,b6,Bg5,Bb7,c3,g6,Nbd2,d5,e3,Bg7,Bd3,Nbd7,O-O,c5,Qe2,a6,Rad1,O-O,Ne5,Nxe5,dxe5,Nd7,f4,f6,Bh4,fxe5,f5,e4,Nxe4,dxe4,Bc4+,Kh8,Be6,Bc6,fxg6,Rxf1+,Qxf1,Qe8,Qf5,Nf6,Bxf6,Bxf6,Bf7,Qf8,Bd5,Bxd5,Rxd5,Rd8,Qh5,h6,Rxd8,Qxd8', 'Qxh6+,Kg8,Qh7+,Kf8,Qf7#', 'https://lichess.org/training/yQesW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQGsP', 'Rapid', 'jonathasjc', 1783, 'hiltonduck', 1777, 'e4,c5,Nf3,a6,Bc4,e6,d4,cxd4,Qxd4,Nc6,Qd1,b5,Bd3,Bb7,Be3,d6,Nbd2,Be7,c3,Nf6,O-O,e5,Qb3,O-O,Nh4,Na5,Qc2,Bc8,f4,Ng4,Nf5,Bxf5,Rf3,Bd7,f5,Rc8,Rg3,Nxe3,Rxe3,Bg5,Rg3,h6,Rf1,Bf4,Rg4,Nb7,Nf3,Nc5,g3,Be3+,Kh1,Nxd3,Qxd3,Ba7,Qd2,Kh8,Qxd6,Rc6,Qxe5,Rg8,Rh4,Bb8,Qd4,Rc4', 'Rxh6#', 'https://lichess.org/training/YQGsP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yqgVm', 'Blitz', 'anotherfool', 1897, 'electricbutter', 1883, 'e4,Nf6,d3,d6,f4,g6,Nf3,Bg7,e5,dxe5,fxe5,Nd5,c4,Nb6,d4,c5,d5,O-O,Bf4,e6,d6,Nc6,Nc3,Nd4,Nxd4,cxd4,Qxd4,f6,O-O-O,Bd7,c5,fxe5,Bxe5,Bxe5,Qxe5,Rf5,Qe3,Nd5,Nxd5,exd5,Bd3,Rf8,Qd4,Qg5+,Kb1,Rac8,h4,Qh5,Rd2,Bf5,Bxf5,Qxf5+,Ka1,Rxc5,g4,Qf1+,Rxf1', 'Rxf1+,Rd1,Rc1+,Rxc1,Rxc1#', 'https://lichess.org/training/yqgVm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YqHdP', 'Rapid', 'gimpy', 1700, 'isaackyodai', 1871, 'e4,Nf6,Nc3,c6,e5,Nd5,Nxd5,cxd5,d4,d6,exd6,e6,Bb5+,Nc6,Bf4', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/YqHdP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YqhMD', 'Rapid', 'aziz1289', 1668, 'VaibhavP50', 1681, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,g6,Be3,Bg7,Qd2,Ne7,Be2,O-O,Bh6,Re8,Bxg7,Kxg7,h4,Rh8,h5,Nbc6,hxg6,fxg6,Qh6+,Kg8,Nxc6,Nxc6,Bc4,Ne5,Nd5,Nxc4,Nf4,Qf8,Qg5,Qg7,Nxg6,hxg6', 'Qd8+,Kf7,Rxh8,Qxh8,Qxh8', 'https://lichess.org/training/YqhMD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQi4n', 'Rapid', 'linail', 2036, 'BarmyKnights41', 2081, 'e4,c5,Nc3,d6,f4,Nc6,Bb5,Bd7,Nf3,e6,O-O,Nf6,d3,Be7,Qe1,a6,Bxc6,Bxc6,Qh4,O-O,Qg3,b5,f5,exf5,Bh6,Ne8,exf5,Bf6,Rae1,Kh8,Bf4,d5,Ne5,Qc8,Nxc6,Qxc6,Be5,b4,Bxf6,Nxf6,Ne2,Rfe8,Nf4,Qd6', 'Ng6+,hxg6,Qxd6', 'https://lichess.org/training/YQi4n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQjf7', 'Rapid', 'giorno_one', 1775, 'isse1553', 1779, 'e4,e5,f4,Nc6,Nf3,d6,h3,Nf6,Nc3,Be7,Bb5,O-O,Bxc6,bxc6,fxe5,dxe5,Nxe5,Bc5,Nf3,a5,d3,Re8,Bg5,h6,Bxf6,Qxf6,Rf1,Ba6,Qd2,Bd6,Qf2,Bb4,Qd4,Qg6,O-O-O,Rad8,Qf2,Bxc3,bxc3,Qe6,c4,Rb8,Nd4,Qd7,Nxc6,Qxc6,Qxf7+,Kh8,Rf5,Bc8,Rc5,Qd7,Rxc7,Qxf7,Rxf7,Be6,Ra7,Rf8,Rxa5,Rf2,Rg1,Rbf8,Kd1,Rf1+,Rxf1,Rxf1+,Ke2,Rc1,Kd2,Rg1,g4,Rh1,Rh5,Kh7,Re5,Bc8,Re8,Bd7,Re7,Ba4,Ra7,Rh2+,Ke3,Bxc2,Rd7,Rxh3+,Kd2,Bb1,a4,Rh2+,Kc3,Ra2,Kb4,Bc2,a5,Bd1,g5,h5,c5,h4,c6,Bg4,Rd8,h3,g6+,Kxg6,c7,Kh7,Rf8,h2,Rf1,Rc2,a6,Rxc7,Kb5,Be2,Rh1,Bxd3+,Kb6,Bxe4', 'Rxh2+,Kg6,Kxc7', 'https://lichess.org/training/yQjf7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQjlO', 'Rapid', 'abbashosein1354', 1887, 'UliXRace', 1601, 'e4,e5,Nf3,Nc6,Bc4,h6,a3,d6,h3,Nge7,Nc3,Be6,Ba2,Qd7,d3,d5,Nh2,d4,Ne2,Ng6,Ng3,Be7,f4,Bxa2,Rxa2,exf4,Bxf4,Nxf4,O-O,Bd6,Nf5,O-O,Qg4,Ng6', 'Nxh6+,gxh6,Qxd7', 'https://lichess.org/training/yQjlO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQLEo', 'Rapid', 'EmmanuelJoe', 933, 'smirts', 880, 'e4,e5,Nf3,Nf6,Bc4,Bb4,O-O,Nxe4,Bxf7+,Kxf7,Nxe5+,Ke6,d3,Nc3,Nxc3,Bxc3,Qg4+,Kxe5,d4+,Kd6,Bf4+,Ke7,Rfe1+,Kf8,Qf5+,Kg8,Bg5,Qf8', 'Qd5+,Qf7,Re8#', 'https://lichess.org/training/yQLEo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQLlT', 'Rapid', 'EgEg', 1635, 'forTAL', 1696, 'e4,e6,d4,d5,e5,c5,c3,Nc6,a3,f6,Nf3,fxe5,Be2,e4,Ne5,Nxe5,dxe5,Qc7,O-O,Qxe5,Bh5+,g6,Bg4,Nf6,f3,Bd6', 'f4,Qf5,Bxf5', 'https://lichess.org/training/yQLlT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQlmJ', 'Rapid', 'chess-cv-ua', 2142, 'stsingh', 2025, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,O-O,h3,Nb8,d4,Nbd7,Nbd2,Bb7,Bc2,Re8,Nf1,Bf8,Ng3,g6,a4,c5,d5,c4,Bg5,h6,Be3,Nc5,Qd2,h5,Bg5,Be7,Ra3,Nfd7,Be3,Nb6,axb5,axb5,Rxa8,Qxa8,Kh2,Nbd7,Rb1,Nf6,Qd1,Bf8,Ra1,Qc8,Bg5,Bg7,Nh4,Qd8,Nhf5,Bc8,Nxg7,Kxg7,Qd2,Qe7,f4,h4,Bxh4', 'Ng4+,Kg1,Qxh4', 'https://lichess.org/training/yQlmJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQlqY', 'Rapid', 'SANOGICELLO', 1881, 'saadoune', 1639, 'e4,e6,Nf3,d5,e5,c5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Qb6,c3,Ne7,d4,Ng6,h4,cxd4,cxd4,Be7,h5,Nh4,Nh2,Nf5,Qg4,Nxd4,Qxg7,O-O-O,Be3,Bc5,Bxd4,Bxd4,Nc3,Qxb2,Na4,Qa3,Rac1+,Kb8,Nf3,Qxa4,Qxf7,Rdf8,Qxe6,Rxf3,gxf3,Rf8', 'Qd6+,Ka8,Qxf8+', 'https://lichess.org/training/YQlqY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQMfW', 'Rapid', 'JohnLankaster', 1619, 'Winning4Draze', 1643, 'e4,e5,c4,c6,Nc3,Na6,a3,Bc5,Nf3,d6,Bd3,Bg4,O-O,Qf6,Be2,Bxf3,Bxf3,Nh6,h3,Qh4,b4,Bd4,Bb2,f5,exf5,Nxf5,Na4,Bxf2+,Rxf2,Qxc4,Bxc6+,bxc6,Rxf5,O-O-O,Rc1,Qe4,Rxc6+,Qxc6,Rf3,e4,Rc3,Nc5,Nxc5,Qb6,Kh1,dxc5,Rxc5+,Kb7,Qh5,a6,Qf7+,Ka8,Bxg7,Rhg8,Bf6,Rdf8,Qd5+,Ka7,Bd4,Rf1+,Bg1,Rd8', 'Rc7+,Kb8,Qxd8#', 'https://lichess.org/training/YQMfW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YqoJb', 'Rapid', 'BillyBenedict', 1869, 'El_Pablitoo', 2031, 'e4,c5,d4,cxd4,Nf3,e5,c3,dxc3,Nxc3,Nc6,Bc4,Nf6,O-O,Bc5,a3,a5,Bg5,h6,Bh4,g5,Bg3,d6,Na4,O-O,Nxc5,dxc5,Qxd8,Rxd8,Nxe5,Nxe5,Bxe5,Nxe4,Rfe1,Bf5,f4,Rd4,Bxd4,cxd4,fxg5,hxg5,Rf1,Bg6,Rad1,Rd8,Rfe1,Nc5,Re5,Na4,Rd2,b6,Rxg5,Kg7,Rd5,Rc8,R5xd4,Nc5,Ba2,Bf5,b4,axb4,axb4,Ne6,Bxe6,Bxe6,Rd1,b5,Kf2,Bc4,Rc1,Rc6,Rg4+,Kf6,Kf3', 'Bd5+,Ke3,Rxc1', 'https://lichess.org/training/YqoJb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQp3w', 'Classical', 'classis', 1747, 'dapperpage', 1701, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Bb4,Bg5,O-O,Qc2,c5,O-O-O,h6,h4,cxd4,Rxd4,Be7,e4,Qb6,e5,Nc6,Rf4,Nh5,Rg4,Bxg5+,hxg5,f5,gxf6,Nxf6,exf6,Rxf6,Rg6,Rf7,Rgxh6,gxh6,Qg6+,Kf8,Rxh6,Ke7,cxd5,Qxf2,dxe6,Qe3+,Kb1,Bxe6,Nd5+,Bxd5', 'Qd6+,Ke8,Rh8+,Rf8,Rxf8#', 'https://lichess.org/training/YQp3w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yqpWA', 'Rapid', 'drexkang', 1807, 'Sudnik_Pavel', 2111, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qd1,Nf6,Nc3,h6,Bc4,b5,Nd5,Qd8,Nxf6+,Qxf6,Bd5,Rb8,c3,Bb7,Be3,O-O,O-O,Ne7,Ba7,Bxd5,Bxb8,Bxe4,Bd6,Rd8,Re1,Bc6,Bxe5,Qg6,Bg3,Nf5,Qd3,Qg5,Re5,g6,Rae1,d6,h4', 'dxe5,hxg5,Rxd3', 'https://lichess.org/training/yqpWA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQRBI', 'Blitz', 'REZA1398m', 2033, 'Artemkyiv', 2050, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Be2,c6,d3,Bg4,Bd2,e6,h3,Qh5,O-O,Bd6,hxg4,Nxg4,Re1,Bh2+,Kf1,Be5,Ne4', 'Qh1+,Ng1,Nh2#', 'https://lichess.org/training/YQRBI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQRNz', 'Blitz', 'tghoulem2000', 1952, 'luiaralo', 2055, 'd4,Nf6,c4,c5,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,Nc3,a6,Bg5,Nc6,d5,Nb8,e4,Ng4,h3,Ne5,Nxe5,Bxe5,Kh2,Bg7,f4,b5,cxb5,axb5,f5,b4,Ne2,Bxb2,Bh6,Bg7,Bxg7,Kxg7,fxg6,hxg6,e5,Nd7,e6,Ne5,exf7,Rxf7,Rxf7+,Kxf7,Nf4,Bf5,Ne6,Qh8,Qf1,Ra3,g4,Nxg4+,Kg1,Nf6,Ng5+,Kg7,Re1,Nxd5,Bxd5,Rg3+,Bg2,Rxg5,Rxe7+,Kf6', 'Qa1+,Kxe7,Qxh8', 'https://lichess.org/training/yQRNz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQsVM', 'Rapid', 'JordanRieger', 1956, 'jorbe26', 1905, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nf3,Nf6,Bg5,O-O,h3,Nc6,c3,Re8+,Be3,Bf4,Qd2,Bxe3,fxe3,Qe7,Kf2,Ne4+,Bxe4,Qxe4,Re1,Bf5,Na3,a6,Rad1,Re7,Nh2,Rae8,Nf1,Qh4+,Kg1,Re4,Qf2,Qg5,Kh1,Rh4,Nb1,Re6,Nbd2,Bg4,Rc1,Rf6,Qg3,Rg6,Qxc7,Rxh3+,gxh3', 'Bf3+,Nxf3,Qg2#', 'https://lichess.org/training/yQsVM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yqtyW', 'Rapid', 'shah-shah7', 2246, 'el_perro_orfeo', 2122, 'c4,g6,Nc3,Bg7,e4,c5,d3,Nf6,Be3,d6,g3,Nc6,h3,Rb8,Bg2,O-O,Nge2,a6,a4,Bd7,O-O,e5,f4,exf4,gxf4,Qc8,Kh2,Nh5,Nd5,Bxb2,Rb1,Bg7,f5,gxf5,Nb6,Qe8,Nxd7,Qxd7,Rxf5,Be5+,Kg1,Ng7,Rf2,f5,Nf4,fxe4,dxe4,Nd4,Nd5,Rxf2,Bxf2,Rf8,a5,Nge6,Qg4+,Kh8,Bxd4,Bxd4+,Kh1,Rg8,Qf5,Qg7,Qf3,Ng5,Qg4,Be5,h4,Ne6,Qxg7+,Rxg7,Ne3,Nf4,Bf3,Nd3,Rf1,Bd4,Nf5,Rd7,Kg2,Nf4+,Kg3,Be5,Kg4,Ne6,h5,h6,Nxh6,Rg7+,Kh4', 'Bg3+,Kh3,Nf4#', 'https://lichess.org/training/yqtyW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQU8m', 'Rapid', 'virgopower', 2316, 'Appanov', 1674, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,Bg4,Bc4,Nc6,Be3,O-O-O,d5,Qb4,Bb3,Ne4,Bd4,Nxd4,Qxd4,Qxd4,Nxd4,Nxc3,bxc3,a6,O-O,g6,h3,Bd7,Rad1,Bg7,c4,e5,Ne2,f5,c5,c6,d6,e4,Nf4,Rhe8,Bf7,Re5,Rb1,Be8,Bg8,Bd7,Bf7,Rf8,Bb3,Rxc5,Be6,Re8', 'Bxd7+,Kxd7,Rxb7+,Kxd6,Rxg7', 'https://lichess.org/training/YQU8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQUrh', 'Rapid', 'TVOYA_MAMKA', 1936, 'veterano10', 1939, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nf6,Nxe5,O-O,Nxc6,bxc6,Bd3,d6,Nc3,Ng4,Qf3,Qh4,Qg3,Qh5,Be2,Qg6,d3,f5,h3,Ne5,Qxg6,Nxg6,a3,fxe4,Nxe4,Bd4,c3,Bb6,d4,c5,dxc5,Bxc5,Nxc5,dxc5,Be3,Re8,Bf3,Rb8,b3,Kh8,b4,cxb4,cxb4,Ba6,Rfc1,Ne5,Bc6,Nxc6,Rxc6,Bb5,Rxc7,a6,Rd1,Rbc8,Rxc8,Rxc8,Rc1,Rd8,Rc3,h6,g3,Be2,a4,Bf3,Rc1,Rd3,b5,axb5,axb5,Rb3,b6,g5,Kf1,Kh7,Ke1,g4,hxg4,Bxg4,Kd2,h5,Kc2,Rb4,Rb1', 'Bf5+,Kc3,Rxb1', 'https://lichess.org/training/yQUrh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQUwE', 'Rapid', 'descorvus', 1700, 'Mr_Greek', 1986, 'e4,d6,h3,e5,Nf3,Nf6,Bd3,Be7,c3,O-O,Bc2,Nbd7,d3,c6,Be3,Qc7,Nbd2,Nc5,Nf1,Ne6,Qd2,a6,Bd1,b5,Be2,Rd8,N1h2,d5,exd5,cxd5,Qc2,d4,Bd2,Bb7,Ng4,Nxg4,hxg4,Nf4,Bxf4,exf4,O-O-O,Rac8,Kb1,dxc3,b3,b4,d4,Bxf3', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/YQUwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQuYG', 'Rapid', 'agusari', 2035, 'mohamadjavad1356', 2037, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,O-O,Nc3,c6,a3,d5,exd5,cxd5,Nxd5,Nxd5,Qxd5,Qb6,Qf3,Bf6,Rb1,Bd7,b4,Bc6,Qh3,Bb5,Bd3,Bxd3,Qxd3,Rad8,Qe3,Bd4,Qf3,Qc7,c3,Bxc3,Bf4,Be5,Rbc1,Qb8,Bxe5,Qxe5,Rfe1,Qb5,Re7,Rd7,Rxd7,Qxd7,h3,Rc8,Rd1,Qc7,Qe3,b6,g3,h6,Qf3,Kf8,Qd5,Qe7,Qd7,Rc7,Qd3,Kg8,Qd2,Qf6,Qd3,Rc3,Qa6,Rc2,Rf1,Qe7,Qd3,Ra2,Rc1,Qe6,Kg2,f5,Rc7,Qe4+,Qxe4,fxe4,Rc3,Kf7,Re3,Kf6,g4,Ke5,Kg3,Kd4,h4,g5,h5,Rb2,Kg2,Rd2,Kf1,Rd3,Rxd3+,exd3,Ke1,Ke4,Kd2,Kf3,Kxd3,Kxf2,Ke4,Kg3,Kf5,b5,Kg6,Kxg4,Kxh6,Kf4,Kg6,g4,h6,g3,h7,g2,h8=Q,g1=Q+,Kf7,Qf2', 'Qf6+,Kg3,Qxf2+,Kxf2,Ke6,Ke3,Kd5', 'https://lichess.org/training/yQuYG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQv3c', 'Rapid', 'Belizarius', 1840, 'GOOODA', 1888, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,Bc5,Nxe5,d5,Nxf7,Kxf7,Qh5+,Kf8,Bxd5,Qf6,Bxe4,Nc6,Qxc5+,Kg8,Bd5+,Be6,Bxc6,bxc6,Nc3,h6,d4,Kh7,Qxc6,Rae8,d5,Rhf8,dxe6,Rxe6,Qd5', 'Qxf2+,Rxf2,Re1+,Rf1,Rfxf1#', 'https://lichess.org/training/yQv3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQVwi', 'Blitz', 'TheDramaLlama', 1658, 'anuppatel1041992', 1627, 'd4,d5,c4,e6,Bf4,Nf6,Nf3,Bd6,Bg3,Na6,e3,Nb4,Qa4+,Nc6,Nc3,dxc4,Bxc4,O-O,Bxd6,cxd6,d5,exd5,Nxd5,Nxd5,Bxd5,Ne5,Nxe5,dxe5,Qe4,Qb6,b3,a5,Bc4,Qf6,Bd3,g6,h4,Qb6,h5,Qb4+,Ke2,Qxe4,Bxe4,f5,Bd5+,Kg7,h6+,Kf6,f4,e4,Rad1,Be6,Bxb7,Rab8,Bd5,g5,Bxe6,Kxe6,fxg5,Kf7,Rd7+,Kg6,Ra7,Kxg5,Rxa5,Rbc8,Ra7,f4,Rg7+,Kf5,exf4,Rc2+,Ke3,Rfc8,Rxh7', 'R8c3+,Kd4,Rd3#', 'https://lichess.org/training/yQVwi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQwFV', 'Classical', 'tonarius', 1778, 'aerdna69', 1766, 'Nf3,Nc6,e4,e5,Bb5,d6,d3,a6,Bxc6+,bxc6,c4,Be7,Nc3,Nf6,Qa4,Bd7,Bg5,h6,Bxf6,Bxf6,O-O,d5,cxd5,cxd5,Qa5,dxe4,dxe4,c6,Qc5,Qe7,Qxe7+,Kxe7,Rad1,Rhd8,h3,Be6,b3,g6,Na4,Rab8,Nc5,Bc8,Rxd8,Kxd8,Rd1+,Kc7,Nh2,Be7,Nd3,Bd6,f3,f5,g4,fxe4,fxe4,Bb7,Rf1,c5,Nf3,Bxe4,Ndxe5,Rf8,b4,Kd8,bxc5,Bc7,Nd4', 'Rxf1+,Kxf1,Bxe5', 'https://lichess.org/training/yQwFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YqwZN', 'Rapid', 'inebrio', 1881, 'Dehon', 2009, 'e4,c5,f4,d6,Nf3,Nc6,Bc4,a6,O-O,Na5,Bxf7+,Kxf7,e5,h6,d4,e6,exd6,Bxd6,Ne5+,Bxe5,fxe5+,Ke8,Qh5+,Kd7,Rf7+,Ne7,dxc5,Kc7,Nc3,Rf8,Rxg7', 'Qd4+,Be3,Qxe3+', 'https://lichess.org/training/YqwZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQX5y', 'Rapid', 'Kurzfinger', 1989, 'Marko1777', 1962, 'e4,g6,d4,Bg7,c4,d6,Nf3,Nf6,Nc3,O-O,Be2,Nc6,Be3,e5,d5,Ne7,O-O,Kh8,Qd2,Nfg8,Ng5,f5,f4,Nf6,fxe5,dxe5,Bc5,b6,Ba3,h6,Nf3,Nd7,exf5,Rxf5,Bd3,Rf7,Bxe7,Qxe7,Bxg6,Rf6,Be4,Nc5,b4,Nxe4,Nxe4,Rf7,Rae1,Bg4,Re3,Raf8,c5,bxc5,bxc5,Bxf3,Rexf3,Rxf3,Rxf3,Rxf3,gxf3,Qf7,Kf2,Qh5,Ke3,Qh4,Kd3,h5,d6,cxd6,cxd6,Qd8,Ke3', 'Bh6+,Ke2,Bxd2', 'https://lichess.org/training/YQX5y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yqxnq', 'Rapid', 'bateye', 1787, 'bijaysky', 1710, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,a6,Bxc6,dxc6,Nxe5,Qe7,d4,Bb6,Nd2,Nf6,Qe2,O-O,O-O,Re8,Re1,Be6,Ndf3,h6,Be3,Nxe4,Bxh6,Nd6,Bf4,Bd5,Qd3,Qf6,Bg5,Qf5,Qxf5,Nxf5,Bf4,Rad8,Rad1,Bxa2,g4,Bb3,gxf5,Bxd1,Rxd1,f6,Ng6,Re4,Be3,Kf7,Nge5+,fxe5', 'Ng5+,Kf6,Nxe4+', 'https://lichess.org/training/yqxnq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQXt2', 'Blitz', 'Kisas57', 1764, 'HugoSeixas', 1995, 'd4,e6,e3,f5,c4,d5,Nc3,Nf6,a3,c6,Bd2,Bd6,Nf3,O-O,cxd5,exd5,Be2,Ne4,Bd3,Nd7,Be2,Ndf6,h3,Qc7,Bd3,h6,Be2,Be6,Nh4,Bg3,Nxe4,Nxe4,fxg3', 'Qxg3+,Kf1,Qf2#', 'https://lichess.org/training/yQXt2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yQXyO', 'Classical', 'Aliaksandr80', 1795, 'catmyledy', 1761, 'Nf3,d6,g3,c5,Bg2,e5,d3,h6,O-O,Be7,Nc3,Nf6,e4,a6,Nd2,Be6,f4,Bg4,Qe1,O-O,h3,Bd7,Nc4,b5,Ne3,exf4,gxf4,Ra7,f5,Qc7,Ncd5,Nxd5,Nxd5,Qd8,Nxe7+,Qxe7,Qg3,Qf6,Bf4,Nc6,Bxd6,Qd4+,Kh1,Re8,f6,g6,Qxg6+,fxg6,f7+,Kg7,fxe8=Q,Bxe8,Bf8+,Kh7,c3,Qe5,Bxc5,Qxc5,d4,Qg5,Rg1,Bd7,Raf1,Qe7,e5,Nd8,Rf6,Qg7,Be4,Be8,h4,h5,Rg5,Kh6,Bf3,Re7', 'Rxh5#', 'https://lichess.org/training/yQXyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQXzB', 'Rapid', 'ROUQUAL', 1679, 'akalbudi', 1686, 'd4,Nf6,Bf4,d6,e3,g6,Nd2,Bg7,c3,O-O,Bd3,h5,h3,c5,Ngf3,Nc6,e4,cxd4,cxd4,Bd7,O-O,Re8,Rc1,Nb4,Bb1,Rc8,a3,Rxc1,Qxc1,Nc6,Qc2,Qc8,Nh4,Bxh3,d5,Bxg2,Nxg2,Nd4,Qxc8,Rxc8,Re1,Ng4,f3,Ne5,Kf2,f6,Ne3,b5,Bxe5,fxe5,Rd1,Bh6,Ndf1,Rf8,Nh2,g5,Bd3,a6,Nf5,Nb3,Nxh6+,Kh7,Nf5,Rf7,Bc2,Nc5,b4,Nd7,Rc1,Nf6,Bd1,g4,Kg3,gxf3,Nxf3,Nxe4+,Kh4,Rxf5,Bc2,Rf4+,Kh3,Kh6,Bxe4,Rxe4,Rc7,Re3,Kg3,Rxa3,Rxe7,h4+,Kg4,h3,Re6+,Kg7,Rxd6,e4,Nh2,e3,Re6,Kf7,Re4,Kg6,Kf3,Kf5,d6', 'e2+,Kxe2,Kxe4', 'https://lichess.org/training/YQXzB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YQzEw', 'Rapid', 'Gwendolynne5000', 1796, 'mr84amini', 1813, 'd4,d5,Bf4,Bf5,e3,e6,c3,Nf6,Nf3,c5,Bd3,Bg6,Nbd2,Nc6,Bb5,a6,Be2,c4,Ne5,Nxe5,Bxe5,Bd6,Bg3,Bxg3,hxg3,b5,Nf3,a5,a3,Ne4,Ne5,Qf6,Bf3,Ng5,Nxg6,Nxf3+,Qxf3,Qxg6,Rh4,O-O-O,Rg4,Qh6,Rh4,Qf6,Rf4,Qh6,Kd2,f6,Rh4,Qg6,Qe2,f5,Rah1,h6,Qf3,f4,Rxf4,Qd3+,Kc1,b4,axb4,axb4,Qd1,Qxd1+,Kxd1,b3,Kd2,Rhf8,Rhh4', 'g5,Rh1,gxf4', 'https://lichess.org/training/YQzEw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yqzpu', 'Rapid', 'bananaBoilie', 1632, 'Ledermr', 1647, 'd4,d5,c4,Bf5,Nc3,c6,Nf3,e6,Bf4,Nf6,e3,Nh5,Bg3,Nxg3,hxg3,h6,Bd3,Bxd3,Qxd3,Be7,O-O-O,O-O,Ne5,Nd7,f4,Nxe5,dxe5,Bc5,Na4,Qa5,Nxc5,Qxc5,b3,Qa3+,Kb1,a5,g4,a4,g5,axb3,Qxb3,dxc4,Qxc4,Qxe3,gxh6,Qb6+,Ka1,Qa6,Qc2,Ra7', 'hxg7,Qxa2+,Qxa2,Rxa2+,Kxa2', 'https://lichess.org/training/Yqzpu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yr2AF', 'Rapid', 'Maxwello_o', 1931, 'pipopopipipo', 1883, 'd4,e5,dxe5,Bc5,Nf3,d6,e3,Nd7,exd6,Bxd6,Be2,Ngf6,O-O,Nc5,Nc3,a6,b3,Bf5,Ba3,O-O,Bxc5,Bxc5,Qxd8,Raxd8,Na4,Ba3,Nd4,Be4,Bf3,Bxf3,Nxf3,b5,Nc3,Bb2,Ne2,Bxa1,Rxa1,c5,h3,Ne4,b4,cxb4,Ned4,Rd6,Nf5,Rd7,Ne5,Rd2,Rf1,Rxc2,f3,Nd2,Rd1,Rxa2,Kh2,Nc4,Nd7,Rd8', 'Nf6+,Kf8,Rxd8#', 'https://lichess.org/training/Yr2AF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yR52h', 'Rapid', 'Desko_D', 1858, 'orlandorochafilho', 1856, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,Bf4,d6,e3,Nbd7,Bd3,a6,Qd2,c6,O-O,Nh5,Bg3,Nxg3,fxg3,e5,dxe5,Nxe5,Nxe5,Bxe5,Ne4,Kg7,Rad1,Qe7,Bb1,Rd8,Nc3,Be6,b3,Re8,Rf2,Rad8,Rdf1,f5,Qc2,Bxc3,Qxc3+,Qf6,Qb4,Qe7,Qc3+,Kg8,e4,fxe4,Bxe4,d5,cxd5,Bxd5,Bxd5+,Rxd5,h3,Red8,Qf6,Qxf6,Rxf6,R8d7,R1f2,R5d6,Rf8+,Kg7,g4,Re6,Rb8,Ree7,Rff8,Kh6,Rf2,Kg5,Kh2,h5,gxh5,Kxh5,Rh8+,Kg5,Rg8,Rg7,Re8,Rgf7,Re5+,Rf5,h4+,Kg4', 'Re4+,Kh5,g4+,Kh6,gxf5', 'https://lichess.org/training/yR52h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yr53S', 'Blitz', 'FLyX1337', 1550, 'protein44', 1591, 'e4,c6,d4,d5,e5,c5,c3,cxd4,cxd4,Bf5,Nc3,a6,h4,h6,Nf3,Nc6,Be3,Be6,Bd3,Bg4,e6,Bxe6,O-O,Bg4,Re1,e6,Bc2,Bb4,Bb3,Nge7,Qc1,Bxf3,gxf3,Nf5,Bf4,O-O,Bc2,Qxh4,Kg2,Ncxd4,Rh1,Qf6,Rh3,Bxc3,bxc3,Ne2,Qd2,Nxf4+,Qxf4,Rac8,Rah1,Rxc3,Bxf5,Qxf5,Qd4,Rd3,Qb2,Qg6+,Rg3,Qh7,Rh4,g5,Rhg4,f5', 'Rxg5+,hxg5,Rxg5+,Kf7,Qxb7+,Kf6,Qxh7,Kxg5,Qg7+', 'https://lichess.org/training/yr53S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yraeI', 'Blitz', 'Mateoe', 2258, 'NM steffenklug', 2291, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Be3,c5,Rc1,O-O,Nf3,Qa5,Qd2,Rd8,Be2,Nc6,d5,Ne5,Nxe5,Bxe5,f4,Bg7,O-O,e6,d6,e5,Bc4,Be6,Bxe6,fxe6,f5,exf5,Bg5,Rd7,exf5,gxf5,Rxf5,c4,Rcf1,Qc5+,Kh1,Qxd6,Qf2,Rf8,Rxf8+,Qxf8,Qe2,Qd6', 'Qxc4+,Qd5,Qc8+', 'https://lichess.org/training/yraeI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YrB2H', 'Rapid', 'elpardo', 2236, 'Ezevereth', 2185, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Nf3,Nc6,Bf4,Qb6,Qd2,Bf5,Rc1,e6,e3,Bb4,Bd3,Be4,O-O,Bxf3,gxf3,O-O,Kh1,Ne7,Rg1,Ng6,Bg3,Rac8,f4,Ne4,Bxe4,dxe4,Qe2,f5,h4,Be7,h5,Nh4,Bxh4,Bxh4,h6,g6,Qh5,Bf6,Rg2', 'Qxb2,Rb1,Qxc3', 'https://lichess.org/training/YrB2H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRBNJ', 'Blitz', 'Ebrahimadm', 1809, 'nidalsilwadi', 2041, 'd4,Nf6,f3,d5,Nc3,c6,Bd2,e6,e3,Bd6,Qe2,e5,dxe5,Bxe5,f4,Bd6,O-O-O,O-O,Nf3,Bg4,h3,Bxf3,Qxf3,Nbd7,g4,Qb6,g5,Ne4,Nxe4,dxe4,Qxe4,Nc5,Qd4,Rad8,b4,Na4,Qxb6,axb6,b5,c5,Bc4,g6,Bb3,Ra8,Be1,Rfd8,h4,c4,Bxc4', 'Ba3+,Kb1,Rxd1#', 'https://lichess.org/training/yRBNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRfWb', 'Rapid', 'bsbdgdgshsh', 2058, 'HarutyunSayadyan', 1902, 'e3,e5,b3,Nf6,Bb2,e4,d3,exd3,Bxd3,d5,Nf3,Bg4,h3,Bh5,O-O,Be7,Be2,c6,Nd4,Bxe2,Qxe2,Nbd7,Nf5,O-O,Nxe7+,Qxe7,Bxf6,Qxf6,Nd2,Nc5,Qf3,Qc3,Rfd1,Qxc2', 'Rac1,Qxa2,Rxc5', 'https://lichess.org/training/yRfWb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRgCZ', 'Blitz', 'YEIKOCASTELLA', 2417, 'NM El_Nica', 2380, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,g4,Nxd4,Bxd4,Qa5,O-O-O,Be6,a3,Rfc8,h4,Rab8,h5,b5,hxg6,hxg6,g5,Nh5,Bxg7,Kxg7,Bh3,b4,Nd5,Bxd5,Bxc8,Rxc8,exd5,Qa4,Kb1,bxa3,Qd4+,Qxd4,Rxd4,a2+,Kxa2,Rxc2,Re1,Kf8,Rde4,Rc7,R1e3,Ng3,Ra4,Nf5,Rea3,Rc5,Ra5,f6,Rxc5,dxc5,gxf6,exf6,Rxa7,Nd4,Kb1,Nxf3,Kc2,Nd4+,Kd3,g5,Ke4,f5+,Ke5,f4,Kf6,Ke8,d6,f3,Kxg5,Ne2,Re7+,Kd8,Re3,Kd7,Rxf3,Kxd6,Kf6,Kd5,Rd3+,Kc4,Rd8,Kb3,Rb8+,Kc2,Ke5,c4,Kd5,c3,b4,Kd2,b5', 'c2,Rc8,Nc3+', 'https://lichess.org/training/yRgCZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YRGfw', 'Rapid', 'vdimartino', 1860, 'SRPM', 1929, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,h6,h4,e6,h5,Bh7,Bd3,Bxd3,Qxd3,Nf6,Bf4,Nbd7,Be5,Nxe5,Nxe5,Bd6,Ng6,fxg6,Qxg6+,Kf8,O-O-O,Qe7,Ne4,Nxe4,Qxe4,Re8,f4,Qf6,Rhf1,Qf5,Qe2,Ke7,g4,Qh7,f5,Kd7,fxe6+,Rxe6,Rf7+,Be7,Qc4,Rf8,d5,Rd6,dxc6+,bxc6,Rxd6+,Kxd6,Qf4+,Kd7,Rxf8', 'Bg5,Kb1,Bxf4', 'https://lichess.org/training/YRGfw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yrGKo', 'Rapid', 'DojoFTW', 1732, 'ahmadsoliman', 1631, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Ne7,O-O,a6,Bxc6+,Nxc6,Qd1,Bg4,h3,Bh5,Qd3,Qf6,c4,Bxf3,Qxf3,Qxf3,gxf3,Nd4,Nc3,Nxf3+,Kg2,Nh4+,Kg3,Be7,Be3,O-O,Kh2,Nf3+,Kh1,Ne5,b3,c6,Rg1,Bf6,Bd4,Nf3', 'Bxf6,Nxg1,Rxg1', 'https://lichess.org/training/yrGKo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yrgnN', 'Classical', 'Blessox', 1758, 'nasserfarzin', 1768, 'b4,e5,a3,d6,Bb2,c6,e3,a5,Nc3,d5,d4,e4,Be2,axb4,axb4,Rxa1,Qxa1,Bxb4,f3,exf3,Nxf3,Nf6,O-O,O-O,Ba3,Bxa3,Qxa3,Qc7,Bd3,Ng4', 'Bxh7+,Kxh7,Qxf8', 'https://lichess.org/training/yrgnN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YrGPi', 'Classical', 'LittleViking', 1665, 'iva2n', 1715, 'd4,Nf6,Bf4,e6,e3,c5,c3,cxd4,cxd4,Bb4+,Nc3,Ne4,Ne2,d6,a3,Ba5,h3,Nc6,f3,Nxc3,Nxc3,e5,dxe5,Nxe5,Bxe5,dxe5,Qa4+,Bd7,Bb5,Bxc3+,bxc3,Bxb5,Qxb5+,Qd7,Qxe5+,Qe7,Qb5+,Kf8,e4,Qh4+,Ke2,Rd8,Rad1,g6,Qc5+,Kg7,Qxa7,Qg5,Qf2,Qb5+,Ke1', 'Rxd1+,Kxd1,Qb1+,Ke2,Qxh1', 'https://lichess.org/training/YrGPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRhJN', 'Classical', 'AdMan_04', 1865, 'nikos_mark20', 1775, 'e4,c5,Nf3,e6,Nc3,Nc6,Bc4,a6,d4,b5,d5,bxc4,dxc6,dxc6,Qxd8+,Kxd8,Bf4,f6,O-O-O+,Ke8,Rd2,e5,Be3,Be6,Rhd1,Nh6,h3,Be7,Na4,c3,Nxc3,Kf7,Na4,c4,Bc5,Rad8,Nc3', 'Rxd2,Nxd2,Bxc5', 'https://lichess.org/training/yRhJN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YRJcu', 'Classical', 'srzk', 1772, 'REYHANEH_ZARE8888', 1706, 'e4,e5,Qh5,Nf6,Qxe5+,Be7,Nc3,O-O,d3,Re8,Be2,Bb4,Qg3,Nc6,Bd2,Nd4,Bd1,d5,a3,Bxc3,Bxc3,dxe4,Bxd4,exd3+,Be3,Ne4,Qf4,dxc2,Bxc2,Nf6,Nf3,Nd5,Qg5,Nxe3,Qxd8', 'Nxc2+,Kd2,Rxd8+', 'https://lichess.org/training/YRJcu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRJzV', 'Blitz', 'Sheog0rath', 1565, 'bbdu44', 1641, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Bd7,Ba4,h6,Ne4,Be7,d3,O-O,Qg3,Kh8,O-O,Nxe4,dxe4,Re8,Nc3,Bc5,Re1,Qf6,Be3,Bxe3,Rxe3,Nc4,Rf3,Qe7,Bb3,Be6,Rd3,Nxb2,Rf3,f6,Rf1,Nc4,Qh4,Nd2,Bxe6,Nxf3+,gxf3,Qxe6,Kh1,Rab8,Rg1,Rg8,Ne2,Qxa2,Ng3,Qxc2,Nf5,Kh7', 'Rxg7+,Rxg7,Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/yRJzV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yrKdf', 'Rapid', 'wladimirovich', 1966, 'treborsky28', 1895, 'e4,c5,Nc3,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nf6,b3,a6,Bb2,e5,Nxc6,bxc6,Qf3,Be7,Qg3,O-O,O-O-O,Bg4,f3,Be6,Kb1,Nh5,Qf2,a5,g4,Nf4,h4,Qb8,h5,h6,g5,Bxg5,Na4,f5,exf5,Bxf5,Bc4+,Be6,Bxe6+,Nxe6,Nb6,Ra7,Nc4,d5,Nxe5,Qc7,Nxc6,Ra6,Ne5,a4,Rxd5,a3,Ba1,Bf6,Rd7,Qa5,f4', 'Bxe5,Bxe5,Qxe5,fxe5,Rxf2', 'https://lichess.org/training/yrKdf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRKtm', 'Classical', 'JSolarays', 1831, 'g1313-1313', 1616, 'e4,e5,f4,Nc6,Nf3,exf4,Bc4,g5,c3,g4,Nd4,Qh4+,Kf1,Nxd4,cxd4,d6,d3,Bh6,Nc3,Bd7,Qb3,O-O-O,Bxf7,Ne7,Nd5,Nxd5,Bxd5,b6,Qc4,f3', 'Qa6+,Kb8,Qb7#', 'https://lichess.org/training/yRKtm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yrkzJ', 'Rapid', 'deecee', 1678, 'Nickyjmuney', 1605, 'd4,f5,c4,Nf6,Nf3,d5,cxd5,Qxd5,Nc3,Qa5,Bd2,Qb6,Qc2,Nc6,e3,Nb4,Qb3,Be6,Qa4+,Bd7,Qb3,O-O-O,a3', 'Nd3+,Bxd3,Qxb3', 'https://lichess.org/training/yrkzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YRloM', 'Rapid', 'Ivan-60', 1700, 'yasin2009', 1831, 'e4,e6,Nc3,d5,exd5,exd5,d4,c5,Qe2+,Be6,Nf3,Nc6,Be3,Qb6,O-O-O,Nf6,Na4,Qc7,Nxc5,Bxc5,dxc5,O-O,Bd4,Ne4,Kb1,Qa5,Qb5,Qxb5,Bxb5,Nxd4,Rxd4,Nxc5,b4,Ne4,Rf1', 'Nc3+,Kb2,Nxb5', 'https://lichess.org/training/YRloM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YRLOp', 'Rapid', 'blinx01', 1900, 'albertomf', 1975, 'd4,d5,c4,e6,Nc3,c6,Bf4,Bd6,Bxd6,Qxd6,Nf3,Nf6,e3,Nbd7,c5,Qc7,Bd3,O-O,Qc2,e5,O-O-O,e4,Bxe4,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qc2,Bg4,Rde1,Bxf3,gxf3,Nd5,a3,Qe7,h4,Qf6,f4,Qg6,Qd1,Qh6,Qb3,Rab8,Kb1,f5,f3,Qe6,e4,Nxf4,d5,Qf7,Qe3,fxe4,fxe4,cxd5,Rhf1,Qc7,exd5,Nxd5,Qe6+,Rf7', 'Qe8+,Rxe8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/YRLOp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRltR', 'Rapid', 'Pioneczkowy', 2237, 'allbymyself_champ11', 2241, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,O-O,O-O,Kh1,h6,Be3,Nc6,a4,Be6,f4,exf4,Rxf4,Ne5,Nd4,Bd7,Nf5,Ng6,Rf1,Bxf5,exf5,Ne5,Nd5,Nxd5,Qxd5,Qc7,Bd3,Ng4,Bd4,Bf6,Rf4,Bxd4,Rxd4,Nf2+,Kg1,Nxd3,cxd3,Rfd8,f6,g6,Rg4,Kh7,Qf3,Rab8,Rh4,Qb6+,d4,Qxb2,Rd1,Rdc8,Qf4,h5,Qg5,Qe2,Rc1,Rc2,Rxh5+,Kg8', 'Rh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/yRltR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRmEP', 'Rapid', 'AllThatIgot', 1997, 'VD31282', 2002, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Bg4,Be2,Nf6,O-O,e6,Re1,c6,d4,Nbd7,Bg5,Qc7,h3,Bh5,Ne5,Bxe2,Qxe2,Bb4,Ne4,Bxe1,Rxe1,Nxe4,Qxe4,O-O,Bf4,Nxe5,Bxe5,Qe7,Qg4,g6,Qf4,f6,Bd6,Qd7,Bxf8,Rxf8,Qe4,Kf7,c3,Re8,Qh4,Kg7,Re3,e5,dxe5,Rxe5,Qf4,Rxe3,Qxe3,a6,g4,f5,g5,Qf7,Qe5+,Kg8,f4,Qd7,Qb8+,Kf7,Qe5,Qd1+,Kg2,Qd2+,Kf3,Qxb2,Qf6+,Ke8,Qe6+,Kd8,Qg8+,Kc7,Qxh7+,Kb6,Qg7,a5,Qd4+,c5,Qd6+,Kb5,Qd3+,Ka4', 'Qc4+,Ka3,Qxc5+', 'https://lichess.org/training/yRmEP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YRnK1', 'Rapid', 'Vlad_novin', 1887, 'SimCor', 1927, 'e4,c5,f4,d6,Nf3,Nc6,Bc4,Nf6,d3,h6,a4,Bg4,O-O,Nd4,Kh1,Nxf3,gxf3,Bd7,f5,Bc6,Rg1,a6,Ra3,d5,Ba2,Rb8,Nc3,e6,fxe6,fxe6,exd5,exd5,Qe2+,Kf7,Qe5,c4,dxc4,Bxa3,cxd5,Bd6,dxc6+,Kf8,Qe6,Qe7,Qxe7+,Bxe7,cxb7,Rxb7,Nd5,Bc5,Re1,Nxd5,Bxd5,Rd7,Bc4,a5,Bb5,Rd8,Bd2,Bb6,Bc3,Rh7,Re6,Bc7,Bd3,Rh8,Rc6,Rd7,Bf5,Rf7,Bg6,Rd7,Rc5,Rg8,Bh7,Rh8,Bd3,Bb6,Rc8+,Rd8,Rc6,Be3,Bxa5,Ra8,Bb4+,Kf7,b3,Rhb8,Bc3,Ra7,Be5,Rd8,Kg2,Re7,Bb2,Kg8,Ba3,Re5,Rc4,Rg5+,Rg4,Re5,Re4,Rg5+,Rg4,Kf7,h4,Rxg4+,fxg4,Rd4,Kh3,g5,Bc5', 'Rxd3,cxd3,Bxc5', 'https://lichess.org/training/YRnK1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRnqt', 'Rapid', 'kiki1943', 2237, 'RytexX', 2190, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Nd5,Ne4,Nf4,Bf1,Be7,g3,Ng6,Bg2,O-O,O-O,f5,Nec3,f4,d3,fxg3,hxg3,Rb8,Ne4,c5,b3,Nc6,Bb2,Nd4,Nbd2,Bf5,c3,Ne6,Qe2,Qd7,Rad1,Nef4,gxf4,Nxf4,Qe3,Bxe4,Nxe4,Qg4,Ng3,h5,Bf3', 'Nh3+,Kh2,Rxf3,Qxf3,Qxf3', 'https://lichess.org/training/yRnqt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YROll', 'Rapid', 'Klawchi', 1717, 'shablovskiy_viktor', 1612, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Bc5,Nf3,Nf6,O-O,cxb2,Bxb2,Nxe4,Bxg7,Rg8,Bb2,c6,Re1,d5,Bb3,Bxf2+,Kf1,Bxe1,Qxe1,Bg4,Ne5,f6,Nxg4,Rxg4,Qe2,h5,Nc3,Qd7,Rd1,Qf5+,Kg1,Nd7,Bc2,Nc5,h3,Rf4,Ba3,Rf2,Rf1,Rxf1+,Qxf1,Qxf1+,Kxf1,Nxc3,Bxc5,Nxa2,Bg6+,Kd7,Bxh5,Rh8,Bg4+,Kc7,Bd4,Rf8,h4,a5,h5,Kd6,h6,Ke7,Bh5,Nb4', 'Bc5+,Ke6,Bxf8', 'https://lichess.org/training/YROll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YROQb', 'Rapid', 'zakzak4', 2323, 'Takie11', 2279, 'd4,c5,d5,e5,c4,d6,Nc3,a6,e4,Ne7,Bg5,Qc7,Bd3,Nd7,Nge2,Ng6,O-O,h6,Be3,Be7,f4,exf4,Nxf4,Nxf4,Bxf4,Bf6,Qc2,O-O,Rae1,Be5,Be3,Qd8,Rf3,Qe7,Ref1,Nf6,h3,Bd7,Ne2,Nh5,Nf4,Nxf4,Bxf4,Rae8,Bxe5,Qxe5,Kh1,Re7,a3,b5,b4,cxb4,cxb5,Bxb5,axb4,Qd4,Bxb5,axb5,Qc3,Rxe4,Qc7,Qxd5,Rf5,Re5,R5f4,Re3,Kg1,Re2,Rg4,h5,Rg3,Qd4+,Kh1,Qe5,Rgf3,f6,Qd7,Re1,Rxe1,Qxe1+,Kh2,Qe5+,Kh1,Re8,Qb7,h4,Qc6,Re7,Qc8+,Kf7,Qc6,g5,Qc2,Qe4,Qc8,Qxb4,Qh8,Qe1+,Kh2,Qe5+,Kh1,d5,Qh7+,Ke6,Qd3,d4,Qb3+,Qd5', 'Rxf6+,Kxf6,Qxd5', 'https://lichess.org/training/YROQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yroYs', 'Classical', 'czechchess', 2090, 'AlexandrP2009', 2079, 'c4,c5,Nc3,e6,e4,Nc6,g3,Nf6,Bg2,a6,Nge2,Be7,O-O,O-O,f4,e5,d3,exf4,gxf4,d6,Be3,Bg4,Qd2,Bxe2,Qxe2,Qd7,Kh1,Qg4,Bf3,Qh4,Rg1,Nd4,Qg2,g6,Raf1,Nh5,Bxh5,Qxh5,Nd5,Bd8,Bxd4,cxd4,Rf3,Qh6,f5,b5,f6,Re8,Rh3,Qf8,b3,bxc4,bxc4,Rb8,Qg3,h6,Qh4,Kh7,Qf2,Re5,Qxd4,Qe8,Qe3,h5,Rg5,Rxg5,Qxg5,Rb1+,Kg2,Rb2+,Kf3,Qh8,Qf4,Bb6,Qxd6,Qc8,Rh4,Bf2,Ne7,Qf8,Rh3,Ba7,c5,Qh6,Qf4', 'Rf2+,Kxf2,Qxf4+', 'https://lichess.org/training/yroYs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRPpD', 'Rapid', 'cagataydemirh', 1841, 'amper8and', 1892, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,c3,Nxe4,Re1,Nc5,Nxe5,Nxa4,Qxa4,O-O,d4,b5,Qc2,Nxe5,Rxe5,d6,Re1,Bb7,Be3,Bg5,Nd2,Re8,Bxg5,Qxg5,f3,Re3,Rxe3,Qxe3+,Kh1,Re8,Nf1,Qe2,Qxe2,Rxe2,Rb1,Bd5,Ng3,Bxa2,Nxe2,Bxb1,Nf4,c6,Kg1,Kf8,Kf2,Ke7,Ke3,f5,d5,c5,Ne6,Ba2,Nxg7,Kf6,Ne8+,Ke5,Nc7,Bxd5', 'f4+,Kf6,Nxd5+', 'https://lichess.org/training/yRPpD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRqd0', 'Blitz', 'stunningchoice_da', 2401, 'IM spacejunkie72', 2504, 'Nf3,d5,c4,e6,g3,dxc4,Bg2,a6,O-O,Nf6,Qc2,Nbd7,Qxc4,b5,Qc2,Bb7,a4,c5,d3,Be7,axb5,axb5,Rxa8,Qxa8,Nc3,Qa6,Bf4,O-O,Ne5,Bxg2,Kxg2,Nxe5,Bxe5,Nd5,Nxd5,exd5,b3,Qe6,Bb2,c4,dxc4,dxc4,bxc4,bxc4,Rc1,Rc8,Bd4', 'Qd5+,e4,Qxd4', 'https://lichess.org/training/yRqd0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yrQs9', 'Rapid', 'vinamrapandey1', 1825, 'studiorg', 1787, 'd4,d5,Nf3,Nf6,e3,a6,Bd3,Bg4,Nbd2,e6,h3,Bh5,O-O,Bd6,Qe1,O-O,b3,c5,Ne5,Nfd7,Bb2,f6,Nxd7,Nxd7,e4,Bg6,e5,fxe5,dxe5,Bxd3,cxd3,Bc7,f4,Ba5,Qe2,Qh4,Kh2,Rxf4', 'g3,Rxf1,gxh4', 'https://lichess.org/training/yrQs9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRRul', 'Classical', 'OlegDmitriev', 1783, 'aleksa_makedonski', 1765, 'c4,Nf6,Nc3,g6,e4,d6,d4,Bg7,d5,e5,f4,exf4,Bxf4,Nh5,g3,Nxf4,gxf4,Qh4+,Ke2,Bg4+,Nf3,Qh5,Bg2,Bh6,h3,Bxf3+,Bxf3,Qh4,Bg4,Bxf4,Rf1,Qg3,Qd4,O-O,Rf3,Qh2+,Rf2,Qg3,Raf1,Be5,Qd2,h5,Be6,c5,Bxf7+,Kg7,Be6,Rxf2+,Rxf2,Bd4,Rf3', 'Qg2+,Ke1,Qxf3', 'https://lichess.org/training/yRRul');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yrsef', 'Blitz', 'Chalekhine', 2065, 'Dodorian20', 2014, 'd4,Nf6,Nf3,c5,c3,e6,Bg5,Nc6,e3,d5,Bd3,Qb6,Qe2,Be7,b3,O-O,Nbd2,h6,Bh4,a5,O-O,a4,Ne5,Re8,f4,Nd7,Qg4,Bxh4,Qxh4,cxd4,exd4,Nf6,Ndf3,Qc7,Ng5,hxg5,fxg5,Ne4,Rxf7,Qd8,Bxe4,dxe4,Rxg7+,Kxg7,Qh6+,Kg8,Qg6+,Kf8,Nf7,Qb6,Nh8,Re7,Qf6+,Ke8,Ng6,Rf7,Qh8+,Kd7,Rd1,Qd8,Qh3,Qxg5,Ne5+,Nxe5,dxe5+,Ke7,c4,Qxe5,Qe3,Qf4,Qc5+,Ke8,Qd4,Kf8', 'Qh8+,Ke7,Qd8#', 'https://lichess.org/training/Yrsef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YRsfW', 'Rapid', 'adamsky', 1724, 'ikart', 1707, 'd4,Nf6,c4,e6,Nc3,b6,e4,c5,d5,d6,Bg5,Nbd7,dxe6,fxe6,Nd5,exd5,exd5,Be7,Be2,O-O,Nh3,Ne4,Bxe7,Qxe7,O-O,Qf7,Bf3,Nef6,Ng5,Qg6,Ne6,Rf7,Kh1,Ne5,Be2,Nfg4,f4,Bxe6,dxe6,Qxe6,fxe5,Rxf1+,Qxf1,Ne3', 'Qf3,Rf8,Qxe3', 'https://lichess.org/training/YRsfW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yRSJF', 'Rapid', 'dzaniplays4', 1827, 'ManuPRZ96', 1706, 'd4,d5,c4,dxc4,e3,c5,Bxc4,e5,Qb3,Qe7,dxe5,Nc6,Nf3,b6,Nc3,Bb7,Nd5,Qd7,Nf4,Na5,Bb5,Nxb3,Bxd7+,Kxd7,axb3,Bxf3,gxf3,Nh6,e4,g5,Nd5,Rg8,Rg1,Rc8,Nf6+,Ke6,Nxg8,Nxg8,Bxg5,h6,Bf4,Ne7,Rd1,Ng6,Bg3,h5,f4,h4,f5+,Ke7,fxg6,hxg3,Rxg3,fxg6,Rxg6,c4,bxc4,Rxc4,Rdd6,Ke8,Rge6+,Be7,Rc6,Rxe4+,Kf1,Kd7,f3,Rb4,f4,Rxf4+,Kg2,Rb4,Rg6,Rxb2+,Kf3,Rxh2,Rc4,b5,e6+,Kd6,Rd4+,Kc5,Rd7,Rh3+,Ke4,Rh4+,Kf5,Rh5+,Kg4,Rh7,Rxa7,b4,Ra5+,Kc4,Kf5', 'Rh5+,Kg4,Rxa5', 'https://lichess.org/training/yRSJF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YrSwV', 'Blitz', 'cloclo2007', 1603, 'FM CoachVincePalamede', 2566, 'e4,c5,Nc3,Nc6,Bb5,Nd4,Bc4,a6,f4,b5,Bd5,Rb8,d3,e6,Bb3,Nf6,Nf3,Bb7,O-O,Nxb3,axb3,d5,e5,d4,Ne2,Nd5,Ng3,Be7,f5,h5,fxe6,fxe6,Ne4,Qb6,Neg5,Ne3,Bxe3,dxe3,Qe2,Qc6,Qxe3,Rf8,Nh4,Kd7,Qh3,Qd5,Ng6', 'Rxf1+,Rxf1,Bxg5', 'https://lichess.org/training/YrSwV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YRsXc', 'Rapid', 'ckmaten1', 1724, 'betozua', 1774, 'd4,Nf6,e3,d5,Nd2,Bf5,c4,c6,c5,e6,Ngf3,h6,Nb3,Be7,h3,O-O,Bd3,Bxd3,Qxd3,Nbd7,O-O,b6,cxb6,axb6,a3,c5,dxc5,bxc5,Nbd2,c4,Qc3,Nc5,b4,Nd3,Ne1,Nxc1,Qxc1,Qd7,Nef3,Bd6,Re1,Ra4,Qc2,Rfa8,Nb1,Ne4,Nbd2,Nxd2,Nxd2,Bxb4,Reb1,Bxd2,Qxd2,Rxa3,Rxa3,Rxa3,Rb8+,Kh7,Qc2+,g6', 'Qb2,d4,Qxa3', 'https://lichess.org/training/YRsXc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YrsXU', 'Rapid', 'ljaeg', 1651, 'bittersweetee', 1661, 'c4,Nf6,d4,g6,Nc3,Bg7,Nf3,O-O,Bg5,d6,g3,b6,Bg2,Bb7,O-O,Nbd7,e3,h6,Bxf6,Bxf6,Qe2,Rb8,Rac1,Bg7,Rfd1,Nf6,c5,d5,Ne5,c6,b4,b5,a4,Nd7,axb5,Nxe5,dxe5,Bxe5,bxc6,Bxc6,Nxd5,Bxd5,Bxd5,Qc7,Rb1,e6,Bg2,Bc3,Qd3,Bxb4,e4,Bxc5,Rxb8,Rxb8,Qd2,Qe5,Qxh6,Qb2,Qf4,e5,Qd2,Qxd2,Rxd2,Rb1+,Bf1,Bd4,g4,Re1,Re2,Ra1,Kg2,a5,Rc2,a4,Bc4,a3,h4,Bb2,h5,gxh5,gxh5,a2,Rxb2', 'Rg1+,Kxg1,a1=Q+,Kg2,Qxb2', 'https://lichess.org/training/YrsXU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YRtcK', 'Rapid', 'rommelhp', 1834, 'salavat1953', 1825, 'e4,c6,d4,d6,Bc4,Nd7,Qh5,g6,Qf3,Ngf6,Nh3,h6,Bb3,Bg7,c3,g5,g4,Nf8,e5,dxe5,dxe5,Bxg4,Qg3,Bxh3', 'exf6,Bxf6,Qxh3', 'https://lichess.org/training/YRtcK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YrUpL', 'Rapid', 'elijahg3200', 1812, 'RodrigoOliver', 1860, 'e4,e6,Nf3,c5,c3,d5,exd5,exd5,d4,Nf6,Bg5,cxd4,cxd4,Nc6,Nc3,Be7,Bb5,O-O,O-O,Ne4,Nxe4,dxe4,Bxe7,Nxe7,Ne5,Nd5,Re1,Bf5,Qb3,Nf4,Bc4,Qg5,g3,Nh3+,Kf1,Qf6,g4,Be6,Qxh3,Bxc4+,Nxc4,Qa6,Qb3,Rac8,Rac1,b5,Ne5,b4+,Kg1,Rxc1,Rxc1,Qd6,Rc6,Qxd4,Nc4,a5,Qe3,Qd1+,Kg2,Qxg4+,Qg3,Qd7,Rd6,Qc7,Ne3,f5,Qe5,f4,Ng4,f3+,Kh3,Qc1,Rd7,Qf1+,Kh4,Rf7,Qe8+,Rf8,Qe6+,Kh8,Qe5,Rg8,Qxe4', 'g5+,Kg3,Qg2#', 'https://lichess.org/training/YrUpL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yrVwe', 'Rapid', 'samirzanaty', 1995, 'Bury_74', 2111, 'e4,Nf6,Nc3,d5,e5,Nfd7,d4,e6,Nf3,c5,Bb5,Nc6,O-O,cxd4,Nxd4,Ncxe5,Bf4,Ng6,Bg3,Be7,Qh5,O-O,Bxd7,Bxd7,Rae1,Bf6,Ndb5,a6,Nd6,Bc6,f4,Qxd6,f5,Qc5+,Kh1,Nh8,fxe6,fxe6,Rxe6,Rae8,Bd6,Qc4,Rfxf6,Rxf6', 'Rxe8+,Bxe8,Qxe8+,Rf8,Qxf8#', 'https://lichess.org/training/yrVwe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YRWOA', 'Rapid', 'Rahul_Knight', 1642, 'Arkane98', 1613, 'e4,c6,Nf3,d5,Nc3,d4,Ne2,c5,c3,Nc6,cxd4,cxd4,Qa4,Bd7,Qc4,Rc8,Nexd4,e5,Nxc6,Rxc6,Qb3,Qc8,Bc4,Rxc4,O-O,f6,d3,Rc6,Bg5,Be6,Qb5,fxg5,Nxe5,a6,Qa5,Rc5,Qa4+,Bd7,Qd4,Nf6,Nxd7,Nxd7,Qe3,Be7,d4,Rb5,Rac1,Qb8,b3,O-O,e5,Rc8,Qh3,Rxc1,Rxc1,Rb6,Qxd7,Rc6', 'Rxc6,bxc6,Qxe7', 'https://lichess.org/training/YRWOA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yrx0V', 'Rapid', 'Actarus19', 1738, 'mirella13', 1781, 'e4,e5,f4,exf4,d4,g5,Nc3,Nc6,Nh3,d6,Qh5,Be7,Bb5,Bd7,Bd2,a6,Ba4,Nxd4,Bxd7+,Qxd7,O-O-O,Ne6,Nd5,O-O-O,Qe2,h6,Qc4,Nf6', 'Nb6+,Kb8,Nxd7+', 'https://lichess.org/training/yrx0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YRXOd', 'Bullet', 'Schacksmurfen', 2028, 'Sharmas007', 1998, 'd4,Nf6,Bg5,e6,e4,Be7,e5,Nd5,Bxe7,Nxe7,f4,d5,Nf3,Nd7,c3,c5,Nbd2,b5,Bxb5,a6,Bd3,c4,Bc2,Qb6,Rb1,Bb7,O-O,Qa5,a3,O-O,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,f5,Qg3,Rg8,h4,Raf8,h5+,Kh6,Ndf3,Qb6,Nxe6,Qxe6,Ng5,Qb6,Kf2,Nxe5,fxe5,f4,Qg4,Nf5,e6,Nxd4', 'Nf7+,Rxf7,Qg6#', 'https://lichess.org/training/YRXOd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yrXOR', 'Rapid', 'Rubal4', 1805, 'Alexiy17', 1727, 'd4,f5,Nf3,Nf6,Bf4,g6,e3,Bg7,h3,O-O,Bd3,d6,Nbd2,Nbd7,Bg5,Re8,h4,e5,dxe5,dxe5,Bxf6,Bxf6,h5,e4,Bc4+,Kg7,Nd4,Bxd4,exd4,Nb6,c3,Nxc4,Nxc4,Be6,Ne5,Bf7,hxg6,Bxg6,Nxg6,hxg6,Qd2,Rh8,O-O-O,Qe7,d5,Rxh1,Rxh1,Rh8', 'Qd4+,Qf6,Qxf6+,Kxf6,Rxh8', 'https://lichess.org/training/yrXOR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yrYFE', 'Rapid', 'TC62', 1855, 'wonderworker', 1604, 'e4,d5,exd5,Qxd5,Nc3,Qd8,h3,Nc6,Nf3,Nf6,Bc4,e6,O-O,Bb4,Re1,O-O,a3,Bxc3,bxc3,h6,d4,a6,Bf4,Na5,Ba2,Nd5,Bd2,Qd7,Rb1,Qc6,c4,Nxc4,Bxc4,Qxc4,Ne5,Qxd4,Nf3,Qc5,Rb3,Bd7,Re5,Ba4,Bb4,Qc6,Bxf8,Bxb3,Bxg7,Bxc2,Qd4,f6,Rxd5,Qxd5,Qxf6,Qd1+,Kh2,Qd6+,g3,Qxa3,Ne5,Rf8,Bxf8,Qxf8,Qxe6+,Kh8,Nf7+,Kh7,Qf6,Bg6', 'Ng5+,Kg8,Qxg6+', 'https://lichess.org/training/yrYFE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YrZ0f', 'Rapid', 'kacper07', 1893, 'SansAvoirVecu', 1895, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Nd4,Nxd4,exd4,Ne2,Nxe4,Nxd4,Qg5,Qf3,Nd6,d3,Qe5+,Qe3,Qxe3+,fxe3,Nxb5,Nxb5,Kd8,O-O,Bc5,Rxf7,c6,d4,Bb6,Nd6,Bc7,Nxc8,Rxc8,Rxg7,d5,b3,Bd6,c4,dxc4,bxc4,c5,d5', 'Be5,Rxb7,Bxa1', 'https://lichess.org/training/YrZ0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yrz61', 'Rapid', 'andrei2011', 1782, 'Wolowizard1', 1700, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qf6,Qd3,Nge7,Be2,O-O,O-O,b5,Nc3,Bb7,a3,Ng6,Nd5,Qd8,Be3,Nd4,Bxd4,exd4,Qxd4,Bxd5,Qxd5,Nf4,Qd2', 'Qg5,Qxf4,Qxf4', 'https://lichess.org/training/yrz61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YrZ9M', 'Classical', 'steveough', 1653, 'V1ct0r00', 1738, 'Nf3,d5,b3,e6,Bb2,b6,e3,Bb7,d4,c5,dxc5,Bxc5,g3,Nf6,Bg2,Nc6,Na3,Qe7,Bxf6,Qxf6,Nb5,O-O,c4,Bb4+,Nd2,Bxd2+,Kxd2,Rfd8,Ke2,dxc4,Qc2,Qe5,Bxc6,Bxc6,Nc3,Bxh1,Rxh1,Rd6,f4,Qf6,Ne4,cxb3,axb3,Qe7,Nxd6,Qxd6,Rc1,h5,Qc7,Qa3,Rd1,Qxb3,Rd7,Qb2+,Kf3,f5,Qd6,Qf6,Qc6,Rd8,Rxd8+,Qxd8,Qxe6+,Kh7,Qxf5+,g6,Qf7+,Kh6,Qxa7,Qd1+,Ke4,Qh1+,Ke5,Qxh2,Kf6,h4', 'Qg7+,Kh5,Qxg6#', 'https://lichess.org/training/YrZ9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ys1xC', 'Blitz', 'NM good_knight_kisses', 2330, 'Srbko', 2326, 'e4,d5,exd5,Nf6,d4,c6,dxc6,e5,Nf3,Nxc6,Bb5,Qa5+,Nc3,Bb4,O-O,Bxc3,Bxc6+,bxc6,bxc3,e4,Ne5,O-O,Nxc6,Qxc3,Ne7+,Kh8,Bg5,Bg4,f3,exf3,gxf3,Bh3,Rf2,Rad8,Bxf6,gxf6,Rd2,Rfe8,Rd3,Qc7,f4,Rg8+,Nxg8,Rxg8+,Rg3,Qxf4,Rxg8+,Kxg8,Qd3,Kf8,c3,h5,Re1,Be6,Qg3,Qd2,Qf2,Qg5+,Qg3,Qd2,Qe3,Qxa2,Re2,Qb1+,Kf2,Qf5+,Qf3', 'Qxf3+,Kxf3,Bg4+,Kf2,Bxe2', 'https://lichess.org/training/ys1xC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ys2gz', 'Blitz', 'Denis_88', 2217, 'NM Biofritz', 2227, 'Nf3,c5,c4,Nf6,Nc3,g6,b3,Bg7,Bb2,O-O,g3,e6,Bg2,d5,cxd5,exd5,d4,Nc6,dxc5,d4,Nb5', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/Ys2gz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ys62e', 'Blitz', 'IgorRus', 1713, 'dsal', 1649, 'e4,c5,Bc4,Nc6,Qh5,e6,Ne2,Nf6,Qf3,g6,d3,Bg7,Bg5,O-O,Nbc3,a6,a3,d6,O-O-O,Nb8,d4,b6,e5,Nbd7,exf6,Bxf6,Bxf6,Nxf6,dxc5,d5,cxb6,Bb7,Qxf6,Qxf6,Bd3,Rab8,Na4,Qxf2,h4,h5,g4,d4,Rhf1,Qxh4,gxh5,Qxh5,Nf4,Qg5,Kb1,Bd5,Nc5,Bc6,b7,Bb5,Ne4,Qd8,Rh1,Bxd3,Nxd3,Rxb7,Rh2,Qb6,Rdh1,Rfb8', 'Rh8+,Kg7,R1h7#', 'https://lichess.org/training/Ys62e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YS6HM', 'Rapid', 'Two80', 1936, 'isaaclazr', 1602, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nd5,Bc5,Bg5,d6,Bc4,Be6,O-O,h6,Bxf6,gxf6,a3,Rg8,Kh1,Bg4,b4,Bb6,Qd3,Ne5,Nxe5,fxe5,f3,Be6,a4,a5,Nxb6,cxb6,Bxe6,fxe6,Qb5+,Ke7,f4,exf4,Rxf4,Rg5,Qe2,e5,Rf5,Qg8,Raf1,Rxf5,exf5,Rf8,Qe4,Rb8,f6+,Kf7,Qd5+,Kg6,f7,Qf8,Qe6+,Kg7,Rf3,Rc8,Rg3+,Kh7,Qg6+,Kh8,Qf6+,Kh7,h4,Rc7,Rg8,Qxf7', 'Rh8#', 'https://lichess.org/training/YS6HM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ys6z7', 'Rapid', 'aditya2012', 1605, 'wilson4576', 1793, 'Nf3,Nc6,d4,d5,Bd2,Bf5,e3,Nf6,Na3,e6,Nb5,a6,Nc3,Bb4,Be2,Qe7,O-O,Bd6,Nb1,h6,c4,dxc4,Bxc4,g5,Re1,g4,Nh4,Bh7,Bc3,Ne4,Qxg4,Nxc3,Nxc3,Rg8,Qh3,Qg5,d5,Ne5,Bb3,exd5,Bxd5,c6,Nf3,Nxf3+,Bxf3,Bf5,Ne4', 'Bxh3,Nxg5,Rxg5', 'https://lichess.org/training/ys6z7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yS7vA', 'Rapid', 'Kajubi', 1779, 'RaWyse', 1760, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,e6,c4,Qd8,d5,Nb4,dxe6,Bxe6,Qxd8+,Kxd8,Bd2,Nc2+,Kd1,Nxa1,Kc1,Bf5,Nd4,Bg6,Bg5+,f6,Bf4,c5,Nb3,Nxb3+,axb3,Kd7,Bg4+,f5,Bf3,Bd6,Bg5,Rab8,Rd1,Kc7,g4,h6,Rxd6,hxg5,Rxg6,Rxh2,Rxg7+,Kb6,gxf5,Rxf2,Bd5,Rxf5,Rg6+,Ka5,Rg7,Rbf8,Rxb7,Rf1+,Kd2,R8f2+,Ke3,Rxb2', 'Rb5+,Ka6,Bb7#', 'https://lichess.org/training/yS7vA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ys8eB', 'Blitz', 'ooooo1', 1760, 'tsepo1025', 1790, 'e3,g5,Bc4,d6,Qf3,Nf6,b3,Nbd7,Bb2,Ne5,Bxe5,dxe5,h4,g4,Qe2,Bf5,f3,gxf3,gxf3,Bxc2,Nc3,Bg6,f4,exf4,exf4,Qd6,O-O-O,O-O-O,Nf3,Qxf4,Rhf1,Qf5,Nd4,Qa5,a4,Bh5,Qf2,Bxd1,Rxd1,Kb8,Ndb5,Nd7,Nd5,c6,Qf4+,Kc8', 'Nxa7+,Qxa7,Qc7#', 'https://lichess.org/training/Ys8eB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YS95C', 'Classical', 'mohsen1128', 1633, 'Tuutu1', 1615, 'e4,c5,Nf3,Nc6,Bc4,Nf6,Nc3,e6,O-O,d5,Bb5,Bd6,Bxc6+,bxc6,e5,d4,Ne2,O-O,exd6,Qxd6,d3,Ba6,b3,Nd5,Nd2,f5,Ba3,e5,f4,Ne3,fxe5,Qxe5,Qc1,Nxf1,Qxf1,Rae8,Re1', 'Qe3+,Qf2,Qxd2', 'https://lichess.org/training/YS95C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YSa5Z', 'Blitz', 'gurgen1234567890', 1902, 'Javierhh', 2125, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,d5,a3,Bxc3+,bxc3,O-O,cxd5,exd5,e3,b6,Bd3,c5,Ne2,Nc6,O-O,Re8,Ng3,Be6,Ra2,Qd7,Raf2,cxd4,cxd4,Na5,e4,dxe4,fxe4,Bb3,Qd2,Qxd4,Bb2,Qc5,Bxf6,gxf6,Kh1,Nc4,Bxc4,Bxc4,Qh6,Bxf1,Nh5,Qf8', 'Nxf6+,Kh8,Qxh7#', 'https://lichess.org/training/YSa5Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YsAu7', 'Rapid', 'hosamsharoof22_k', 1997, 'shiva23', 2201, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Bc4,e6,Nc3,Qc7,a3,b5,Be2,Nf6,O-O,Bb7,Be3,Nxd4,Qxd4,Rc8,Rad1,Bc5,Qd2,O-O,Bd3,Bxe3,Qxe3,d5,e5,Ng4,Qh3,Nh6,g4,Qxe5,f4,Qc7,g5,Nf5,Bxf5,exf5,Qxf5,d4,Nd5,Bxd5,Qxd5,Qxc2,Qxd4,Rc4,Rd2,Qf5,Qd7,Qc5+,Rff2,Rc1+,Kg2,Qc4,Rd4,Qa2,Re2,Qb1,Kh3,Rg1,Qe7,Qf1+,Kh4,Qf3', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/YsAu7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysAUn', 'Rapid', 'Castillejoxx', 1747, 'ShammaZzz', 1730, 'd4,d5,c4,Nf6,Nf3,Nc6,Nc3,dxc4,e3,e6,Bxc4,b6,Bb5,Bb7,Ne5,Qd6,Qa4,O-O-O,Bxc6,Bxc6,Nxc6,Re8,Nxa7+,Kd8,Nc6+,Kd7,Ne5+,Ke7,b3,g6,Ba3,c5,dxc5,Qxe5,cxb6+,Kd8,Qd4+', 'Qxd4,exd4,Bxa3', 'https://lichess.org/training/ysAUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysB0g', 'Blitz', 'Nik20002353', 1618, 'Rizicofactor2018', 1625, 'e4,e6,Nf3,Be7,Nc3,h6,e5,d6,d4,d5,Bd3,Nd7,O-O,g5,Ne1,Nf8,Ne2,Bd7,c4,c6,cxd5,exd5,Qc2,Ne6,a3,Qb6,Be3,O-O-O,Bf5,Kb8,Rb1,h5,b4,g4,g3,Ng5,Bxd7,Rxd7,Bxg5,Bxg5,a4,Qc7,Qf5,f6,b5,Ne7,Qc2,fxe5,bxc6,Nxc6,Nd3,exd4,Nef4,Bxf4,Nxf4,h4,Rfc1,Ka8,Qd3,hxg3,fxg3,Qd6,a5,a6,Qf5,Rf8,Qxg4,Rdf7,Rf1,d3,Nxd3,Rxf1+,Rxf1,Rxf1+,Kxf1,Qf6+,Kg2,Nd4,Nc5,Nf5,Qg8+,Ka7,Qc8', 'Ne3+,Kh3,Qh6#', 'https://lichess.org/training/ysB0g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysbof', 'Rapid', 'Bekhkermot80', 1859, 'The-Sussex-Bully', 1751, 'e4,b6,f4,Bb7,Nc3,e6,Nf3,Nf6,e5,Nd5,d4,c5,Be2,Be7,O-O,O-O,Ne4,Nxf4,Bxf4,Bxe4,Qd2,Nc6,c3,d6,Rad1,cxd4,cxd4,dxe5,Nxe5,Nxe5,Bxe5,Qd5,Qf4,f6,Bc7,Rac8,Bf3,Bxf3,Rxf3,e5,Qc1,Bd6,dxe5,Rxc7,Qb1,Qxe5,Rh3,f5,Re1,Qc5+,Kh1,g6,Rc3,Qf2,Rf3,Qh4,Rh3,Qg5,Qd1,Rd8,Qd5+,Kg7,Qd4+,Qf6', 'Rxh7+,Kxh7,Qxf6', 'https://lichess.org/training/ysbof');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ysc1J', 'Classical', 'lfcr', 1922, 'Nicco01', 1753, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Nf6,Re1,Bg4,h3,Bh5,d3,Be7,Nbd2,O-O,Nf1,h6,Ng3,Bg6,Nh4,Bh5,Nxh5,Nxh5,Nf5,Nf4,Bxf4,exf4,Qg4,Bf6,c3,Rb8,Rab1,Bg5,h4,Bf6,Nxh6+,Kh7,Nf5,g6,Nd4,Bxd4,cxd4,Qf6,e5,Qf5,Qxf5,gxf5,f3,dxe5,dxe5,Rfd8,Red1,Rd5,d4,Kg6,Rbc1,c5,dxc5,Rxe5,Rc2,Rb5,c6,Rbc5,Rdd2,Kh5,b4,Rcd5,Rxd5,Rxd5,Rc4,Kxh4,Rxf4+', 'Kg3,Kf1,Kxf4', 'https://lichess.org/training/Ysc1J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysc67', 'Rapid', 'jclar_ke', 1940, 'dulea', 2226, 'Nf3,Nf6,c4,e6,b3,d5,Bb2,Be7,e3,O-O,Nc3,b6,Rg1,Bb7,g4,Nbd7,g5,Ne4,h4,c5,Qc2,Nxc3,Qxc3,d4,exd4,Bxf3,dxc5,e5,Qxf3,Nxc5,Bxe5,Bd6,Bc3,Re8+,Kd1,Ne4,Kc2,Nxc3,Qxc3', 'Be5,Qd3,Bxa1', 'https://lichess.org/training/ysc67');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysD3d', 'Rapid', 'Chali1971', 1651, 'florez64', 1833, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Bg5,Nc6,Nf3,h6,Bxf6,Bxf6,a3,a6,b4,Bd7,Rc1,e6,Be2,b5,O-O,Ne7,e5,dxe5,dxe5,Bg7,Ne4,Bc6,Qxd8,Rfxd8,Nf6+,Kh8,Rfd1,Ng8,Ng4,bxc4,Bxc4,Bxf3,gxf3,h5,Rxd8,Rxd8,Nf6,Nxf6,exf6,Bxf6,Bxa6,Be5,Be2,Rd2,Bb5,Rb2,Rc4,Rb3,a4,Rxf3,a5,Ra3,a6,Kg8,Rc6,Kf8,Bc4,Ke8,b5,Kd8,b6,cxb6,Rxb6,Kc7,Rb7+,Kc8,Rxf7,Bd4,Bxe6+,Kb8,Bc4,Rxh3,Bd5,Rd3,Be4,Ra3,Rb7+,Kc8,Rh7,Rxa6', 'Bb7+,Kd8,Bxa6', 'https://lichess.org/training/ysD3d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysdcO', 'Rapid', 'Alexander52', 1864, 'zhjvbh10', 1835, 'd4,Nf6,Bf4,e6,Nf3,c5,e3,cxd4,exd4,d5,c3,b6,Ne5,Bb7,Bb5+,Nbd7,Bxd7+,Nxd7,Qa4,Be7,Nc6,Bxc6,Qxc6,Qc8,Qa4,O-O,O-O,h6,Nd2,f5,Nf3,Nf6,Ne5,Bd6,Qd1,Bxe5,Bxe5,Ne4,f3,Nf6,Qe1,Qd7,Qg3,Rae8,Rfe1,Qb5,Rab1,Qa4,a3,Qc2,Bd6,Rf7,Be5,f4,Bxf4', 'Nh5,Qf2,Qxf2+', 'https://lichess.org/training/ysdcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YSdMF', 'Rapid', 'PetitLarsen', 1821, 'Carlo_Rossi', 1807, 'g3,d5,Bg2,e5,Nf3,e4,Nd4,c5,Nb3,f5,O-O,Nf6,d3,Nc6,Nc3,d4,Nb5,a6,Na3,Bd6,Nc4,Bc7,Bg5,O-O,dxe4,fxe4,Bxe4,h6,Bxf6,Qxf6,Nxc5,Bh3,Bg2,Bxg2,Kxg2,Qf7,Nd2,Qd5+,Nde4,Rae8,f3,b6,c4,Qf5,Nd3,Rxe4,fxe4,Qxe4+,Kg1,Qe3+,Nf2', 'Bxg3,Qd3,Bxf2+', 'https://lichess.org/training/YSdMF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YSdvF', 'Rapid', 'elcin1899', 1596, 'ivanith334', 1639, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Bg4,O-O,Nf6,d3,d5,exd5,Nxd5,Nc3,Nxc3,bxc3,Bd6,d4,O-O,Bb3,Nd7,h3,Bxf3,Qxf3,Nf6,Bxf4,Bxf4,Qxf4,c6,Rae1,Qb6,g4,h6,g5,hxg5,Qxg5,c5,Rxf6,Qxf6,Qxf6,gxf6,dxc5,Rac8,Rf1,Rxc5,Rxf6,Rxc3,h4,Kg7,Rf2,Rg8,Bxf7,Kf8+,Bxg8+,Kxg8,h5,Kg7,Rh2,Kh6,a4,Rc4,a5,Rc5,Kg2', 'Rxc2+,Kg3,Rxh2,Kxh2,Kxh5', 'https://lichess.org/training/YSdvF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ySe4L', 'Rapid', 'xochinla', 1871, 'Boxi-cz', 1850, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h5,Nf3,e6,Bd3,Ne7,Bg5,f6,Bf4,Nd7,Bxg6+,Nxg6,Be3,Bd6,Qd3,Bxg3,fxg3,Ne7,O-O-O,Qa5,Qb3,O-O-O,Qxe6,Nd5,Bd2,Qxa2,Bc3,Rhe8,Qf7,Re7,Qxh5,Nxc3,bxc3,Re2,Nd2,Qa1+,Nb1,Re3,Qg4,Rxc3,Qxg7,Nb6,Qg4+,Kc7,Qf4+,Kc8,Qxf6,Nc4,Rd3,Re8,Rxc3', 'Qb2+,Kd1,Qxb1#', 'https://lichess.org/training/ySe4L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysEhE', 'Rapid', 'hegeweko', 1862, 'Aslan1900', 1872, 'd4,d6,e3,e5,c3,e4,f3,Nf6,fxe4,Nxe4,Nf3,d5,Bd3,Bf5,O-O,Bd6,Qb3,Nc6,Qxd5', 'Bxh2+,Nxh2,Qxd5', 'https://lichess.org/training/ysEhE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YSFUA', 'Rapid', 'dirccules', 1868, 'siyanews', 1845, 'd4,d5,Bf4,Nc6,Nf3,Nf6,e3,g6,Bd3,Bg7,Nbd2,O-O,Qe2,Re8,h3,b6,g4,Bb7,Ne5,Rb8,h4,Nd7,h5,Ndxe5,Bxe5,Nxe5,dxe5,Bxe5,O-O-O,g5,f4,gxf4,exf4,Bxf4,h6,e5,Rhf1,Bxh6,Qf3,Re7,g5,Bxg5,Rg1,h6,Qh5,e4,Be2,Kh7,Rxg5,e3,Nb3,d4,Rh1,Bxh1,Bd3+,Be4,Bxe4+,Rxe4', 'Qxf7+,Kh8,Qg7#', 'https://lichess.org/training/YSFUA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ysfvv', 'Blitz', 'allkenang', 2022, 'Alpha-du-centor', 2111, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,Be7,Qc2,O-O,Nf3,h6,Bh4,b6,e3,Bb7,Bd3,Ne4,Bxe7,Qxe7,O-O,f5,Rab1,c5,dxc5,bxc5,Be2,Nd7,Rfd1,Ndf6,Qb3,Rad8,Qa3,a6,Nd4,Ng4,f3,Nxe3,fxe4,Nxd1,Rxd1,fxe4,Nb3,Qg5,Qxc5,e3,Nd4,Rf2,Bf1,Rdf8,Nce2,Qh4,Qd6,Rxf1+,Rxf1', 'Rxf1+,Kxf1,Qf2#', 'https://lichess.org/training/Ysfvv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YsFvz', 'Blitz', 'Kund', 1860, 'darkwolf99', 1826, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,cxd4,Nc6,Nf3,d6,Bc4,e6,Bxd5,exd5,O-O,Be7,exd6,Qxd6,Nc3,O-O,Re1,Bf6,Ne5,Nxe5,dxe5,Bxe5,g3,Be6,Be3,Bf6,Bd4,Bxd4,Qxd4,a6,Rad1,Rfd8,Ne4,Qe7,Nd2,Rac8,Nf3,Qc5,Qf4,Qc4,Nd4,Qxa2,Nxe6,fxe6,Rxe6,Qxb2,Re7,b5,Qf7+,Kh8,Rde1,Qf6', 'Re8+,Rxe8,Rxe8+,Rxe8,Qxe8+,Qf8,Qxf8#', 'https://lichess.org/training/YsFvz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ySi4s', 'Rapid', 'mortimer22', 1785, 'meticulous_ferret', 2314, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nf3,Be7,Bg5,Be6,Qd2,Nc6,O-O,Qd7,Rad1,h6,Bxf6,Bxf6,Be2,Rd8,Nd5,Be7,Nb6,Qc7,Nd5,Qd7,Nb6,Qc7,Nd5,Bxd5,Qxd5,O-O,Bc4', 'Nb4,Qd2,Qxc4', 'https://lichess.org/training/ySi4s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YSi7y', 'Rapid', 'Riobaldo22', 1939, 's1avberg', 1950, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Qg4,f5,exf6,Nxf6,Qh4,cxd4,cxd4,Be7,Ne2,O-O,O-O,Ne4,Qh5,g6,Qh3,e5,Qe3,Nxd2,Bxd2,exd4,Nxd4,Nxd4,Qxd4,Bf6,Qb4,b6,Be3,Bb7,Bd4,Rc8,Rac1,Bxd4,Qxd4,Qd6,Rfd1,Rxc1,Rxc1,Rc8,Rxc8+,Bxc8,h3,Qc5,Qe5,Qc6,h4,Qe6,Qxe6+,Bxe6,f3,Kf7,Kf2,d4,a3,Bf5,Bxf5,gxf5,Ke2,Ke6,Kd3,Ke5,g4', 'fxg4,fxg4,Kf4', 'https://lichess.org/training/YSi7y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ySiJn', 'Blitz', 'abobakr000', 1769, 'magnisskarlsun', 1769, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,d3,Nc5,O-O,d6,Re1,Bg4,d4,Ne6,dxe5,Nc6,exd6,Bxd6,h3,Bh5,g4,Bg6,Bxe6,fxe6,Rxe6+,Ne7,Bg5', 'Bh2+,Kg2,Qxd1,Rxe7+,Kf8', 'https://lichess.org/training/ySiJn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysIOT', 'Rapid', 'conlon', 1672, 'Pierreuh', 1684, 'd4,Nf6,e3,g6,c3,Bg7,Nf3,b6,Nbd2,Bb7,Bd3,d6,O-O,Nbd7,Qc2,c5,e4,Qc7,Re1,O-O,e5,Ne8,exd6,exd6,Bb5,cxd4,cxd4,Qxc2,Bxd7,Nc7,Ng5,Rad8,Bh3,Qc6,Ndf3,Rfe8,Be3,Nd5,Rac1,Qb5,b3,Nxe3,fxe3,Bc8,Bxc8,Rxc8,Rcd1,Rc2,Ra1,Qc6,Nh3,h6,Nf4,g5,Nh5,g4,Nh4,d5,Nf5,Bf6,Nxh6+,Kh7,Nxg4,Bg5,Rf1,Kg6,Ne5+,Kxh5,Nxc6,Rxc6,Rxf7,Bxe3+,Kh1,a5,Raf1,Bxd4,R1f4,Rc1+,Rf1,Rxf1+,Rxf1,Kg5,h3,Rh8,Rf3,Rh4,Rf8,Rh6,Rd8,Rf6', 'Rxd5+,Kg6,Rxd4', 'https://lichess.org/training/ysIOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YsjA5', 'Blitz', 'maghsudansari1359', 2082, 'Ilias1979', 2122, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Ne7,O-O,O-O,Re1,Nd7,c3,Re8,Bg5,f6,Bh4,Nf8,Bg3,Nfg6,Nbd2,c6,Qb3,Bxg3,hxg3,b6,a4,Bf5,Bf1,Kh8,a5,b5,a6,Nc8,Nh2,Nd6,Qd1,Rxe1,Qxe1,Qd7,b4,Re8,Qc1,Ne7,Nhf3,Nec8,Nh4,Nb6,Nxf5,Qxf5,Qd1,Ne4,Nxe4,dxe4,Qe1,e3,f3,Qe6,Be2,Nd5,Rb1,f5,Rc1,f4,Bd3,Qf6,Be4,Qg5,gxf4,Nxf4,g3,Nh3+,Kg2,Nf4+,Kg1,Re6,Rc2,Rg6,Bxg6,Qxg6,Rh2,e2,Kh1,Qd3,gxf4,Qxf3+,Rg2,Qh3+,Kg1,Qe3+,Rf2,Qg3+,Kh1,Qh3+,Rh2', 'Qf1+,Qxf1,exf1=Q#', 'https://lichess.org/training/YsjA5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ySKBt', 'Bullet', 'maloylento', 1572, 'tobok', 1706, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bb5+,Bd7,Qe2,a6,Bxd7+,Nbxd7,Bg5,Be7,f3,Qb6,O-O-O,Rc8,g4,Rxc3,bxc3,Ne5,Be3,Qa5,g5,b5,gxf6,Nc4,Nb3', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/ySKBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YSkNP', 'Rapid', 'ramon-cruz', 1918, 'd335722682', 1883, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Be2,e6,O-O,Bd6,h3,Nc6,c4,Nge7,Nc3,Qd7,a3,O-O,Bg5,f6,Be3,Rac8,Rc1,a6,Nh4,Bc7,Nxf5,Nxf5,cxd5,exd5,Bg4,Nce7,Qb3,Qd6,f4,Nxe3,Bxc8,Nxf1,Rxf1,Nxc8,Ne4,Qb6,Qxd5+,Kh8,Qc5,Qxc5,Nxc5,Bb6,Ne6,Re8,f5,g6,g4,gxf5,gxf5,Rg8+,Kh1,Nd6,Rf4,Nf7,b4,Ng5,Rh4,Nxe6,fxe6,Re8,Re4,Bc7,d5,Be5,Kg2,Rd8', 'e7,Re8,Rxe5,fxe5,d6,Kg7,d7,Rxe7,d8=Q', 'https://lichess.org/training/YSkNP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ySlVi', 'Rapid', 'Edgardorueda', 1735, 'Nosniborr', 1686, 'e4,e5,Bc4,Nf6,d3,Nc6,a3,Bc5,h3,d5,exd5,Nxd5,Nf3,Be6,Bg5,f6,Bxd5,Qxd5,Bh4,O-O-O,Qe2,Rhe8,O-O,e4,dxe4,Bxh3,gxh3', 'Rxe4,Nc3,Rxe2,Nxd5,Rxd5', 'https://lichess.org/training/ySlVi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YSM7V', 'Rapid', 'hari3070', 1676, 'JigsawVIII', 1681, 'e3,g6,c3,Bg7,Qa4,Nc6,f3,d6,Kd1,Bd7,Qh4,Nf6,Qe1,O-O,Bc4,a6,a4,d5,Ba2,Na5,Ne2,Bxa4+,b3,Nxb3,Bb2,Nxa1+,Kc1,Nb3+,Bxb3,Bxb3,Nd4,Ba4,Na3,c5,Ne2,e5,g4,d4,cxd4,cxd4,Kb1,d3,Nc3,e4,f4,Nxg4,Qg3,Bxc3,dxc3,Nf6,f5,Nd5,c4,Nb4,h4,Qe7,h5,Bc2+,Ka1,d2,f6,Qc5,hxg6,d1=Q+,Rxd1,Bxd1', 'gxh7+,Kxh7,Qg7#', 'https://lichess.org/training/YSM7V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysMbm', 'Blitz', 'mikhail086', 2399, 'FM WhiteBishop4761', 2588, 'e4,c5,Nc3,d6,Bc4,e6,d3,Nf6,a3,Be7,Ba2,O-O,f4,Nc6,Nf3,Nd4,Nxd4,cxd4,Ne2,Qb6,O-O,Bd7,h3,Rac8,Rf2,Ba4,Ng3,Nd7,Nf1,Qc5,Bb1,d5,e5,Rc7,Nh2,Rfc8,b4,Qb5,Bb2,a5,Bxd4,axb4,axb4,Qxb4,Nf3,Bc5,Bxc5,Rxc5,d4,Rc3,Qd2,Nb6,Ne1,Nc4,Qd1,Ne3,Qd2,Qb5,Nd3,Nxc2,Rxa4,Qxa4,Nc5,Qa1,Rf1,Ne3', 'Bxh7+,Kxh7,Rxa1', 'https://lichess.org/training/ysMbm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysMcI', 'Classical', 'Bonaparte0', 1724, 'Misha020', 1796, 'd4,g6,c4,Bg7,Nc3,b6,e4,Bb7,Nf3,c5,d5,e6,Bg5,f6,Bh4,g5,Bg3,exd5,cxd5,h5,h3,h4,Bh2,d6,Bb5+,Ke7,O-O,a6,Ba4,b5,Bc2,Nh6,Re1,Re8,a3,Kf7,Re3,Qd7,Nxg5+,fxg5,Qh5+,Kg8,Bxd6,Qd8,Bxc5,Nd7,Bd6,Nf6,Qxg5,Qxd6,e5,Nh7', 'Bxh7+,Kxh7,exd6', 'https://lichess.org/training/ysMcI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ySmn9', 'Rapid', 'Ximi1', 1742, 'SergPav', 1758, 'd4,c5,dxc5,e6,b4,a5,c3,axb4,cxb4,Qf6,Nc3,Qxc3+,Bd2,Qf6,Nf3,Ne7,Rc1,Nd5,e4,Nf4,a4,Be7,Be3,O-O,g3,Ng6,Bg2,d5,exd5,exd5,Qxd5,Nc6,b5,Be6,Qe4,Bf5,Qc4,Nce5,Nxe5,Nxe5,Qb3,Be6,Qc2,Rac8,O-O,Nf3+,Kh1,Rc7,Qe2,Nd4,Qd3,Bxc5', 'Bxd4,Bxd4,Rxc7', 'https://lichess.org/training/ySmn9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YSMnQ', 'Classical', 'peanut173', 2159, 'DrawAccept3d', 2332, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,Bxc6,dxc6,Nxe5,Qd4,O-O,Qxe5,Nc3,Ng4,g3,h5,Ne2,Bb6,c3,h4,Nf4,hxg3,hxg3,Nh2,d4,Bg4,dxe5,Nf3+,Kg2', 'Rh2#', 'https://lichess.org/training/YSMnQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysmPa', 'Blitz', 'Patricio-1942', 1631, 'aBaldBlackWoman', 1627, 'e4,c5,Nf3,d6,c3,e5,d4,exd4,cxd4,cxd4,Qxd4,Be6,Ng5,Nc6,Bb5,Qa5+,Nc3,Nf6,Bxc6+,bxc6,Nxe6,fxe6,O-O,Be7,Bg5,O-O,Bxf6,Bxf6,Qxd6,Bxc3,bxc3,Qxc3,Qxe6+,Kh8,Rac1,Qb2,Qxc6,Rab8,Qd7,Rbd8,Qxa7,Ra8,Qe7,Qxa2,Rc7', 'Qxf2+,Rxf2,Ra1+,Rc1,Rxc1+,Rf1,Rcxf1#', 'https://lichess.org/training/ysmPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YsMsI', 'Rapid', 'Luchs100', 1610, 'dpurgin', 1605, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,Qe2,d6,O-O,Bg4,h3,Bh5,a3,a5,d3,h6,Be3,Ba7,Bxa7,Rxa7,Nbd2,O-O,Rfd1,Ra8,Nf1,Bxf3,Qxf3,Rb8,Ne3,Ne7,d4,b5,Ba2,Ng6,dxe5,Nxe5,Qe2,Nxe4,Nd5,Nf6,b4,Nxd5,Rxd5,c6,Rd2,axb4,cxb4,Qf6,Re1,Rfe8,Qd1,Nc4,Rxe8+,Rxe8,Bxc4,bxc4,Rxd6,Re6,Rxe6,Qxe6,a4,c3', 'Qd8+,Kh7,Qd3+,Qg6,Qxc3,Qb1+,Kh2', 'https://lichess.org/training/YsMsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ySomU', 'Rapid', 'jordi1981', 1833, 'Tnh12', 1872, 'e4,c5,Bc4,d6,Nc3,e6,Nge2,Na6,d4,Nc7,dxc5,Nf6,cxd6,Bxd6,O-O,O-O,Bf4,e5,Bg5,h6,Bh4,g5,Bg3,Nh5,Nd5,Ne6,Ne3,a6,Nf5,Bc7,Nxh6+,Kh7,Nf5,Nxg3,fxg3,Bb6+,Kh1,Qc7,Bxe6,Bxe6,Nc3,Kg6,Nd5,Bxd5,exd5,Rh8,d6,Qd7,Ne7+,Qxe7,dxe7', 'Rxh2+,Kxh2,Rh8+,Qh5+,Rxh5#', 'https://lichess.org/training/ySomU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ysorp', 'Rapid', 'onurdag', 1637, 'arnauddc', 1668, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe5+,Ne7,Bg5,d6,Bb5+,Bd7,Bxd7+,Qxd7,Qg3,f6,Be3,Nc6,a3,Be7,Nc3,O-O,Bh6,Rf7,Nd5,Bd8,O-O-O,g5,h4,Nd4,Kb1,Qe6,hxg5,fxg5,Bxg5,Rg7,f4,h6,f5,Qxe4,Rhe1,Qxd5,c3,Rxg5,Qh4,Qxf5+,Ka2,Ne6,Rxd6,Ng7,Rh1,Qf7+,Kb1,Rd5,Qxh6,Nh5', 'Rg6+,Qxg6+,Qxg6+', 'https://lichess.org/training/Ysorp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YSPms', 'Classical', 'TV_13', 1934, 'psuneetha', 1878, 'd4,Nf6,c4,e6,Nc3,c5,d5,exd5,cxd5,d6,e4,Be7,Nf3,O-O,Be2,a6,a4,Bd7,O-O,Bg4,Nd2,Bxe2,Qxe2,Nbd7,Nc4,Rb8,a5,Ne5,Nd2,Qc7,f4,Ned7,Nc4,Rfe8,Qd3,b5,axb6,Nxb6,Nxb6,Rxb6,Rxa6', 'c4,Qe2,Rxa6', 'https://lichess.org/training/YSPms');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yspnk', 'Blitz', 'FinCollapse2020', 1900, 'badfork', 1892, 'd4,e5,dxe5,Bc5,Nf3,d6,exd6,Ne7,Be3,Bxe3,fxe3,Qxd6,Qxd6,cxd6,Nc3,O-O,O-O-O,Rd8,Nd5,Nxd5,Rxd5,Be6,Rb5,b6,Nd4,Nd7,Nxe6,fxe6,g3,Nc5,Bg2,Rab8,Rf1,a6,Rb4,d5,c4,a5,Rb5,dxc4,Rf4,Rdc8,Bh3,Rc6,a3,Nb3+,Kc2,a4,Re4,Re8,Rbe5,Kf7,Rf4+,Ke7,Rg4,g6,Rge4,Kf6,Rb5,g5,Rb4,Ra8,Rbxc4,Rxc4+,Rxc4,b5,Rc6,Re8,Rb6,h5,Rxb5,g4,Bg2,e5,Rb6+,Kf5,e4+,Kg5,Rb7', 'Rc8+,Kd3,Nc5+,Kc4,Nxb7+', 'https://lichess.org/training/Yspnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ySPYP', 'Rapid', 'svitem', 1670, 'curious201', 1748, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bf4,e5,Bg5,exd4,Qxd4,Be7,O-O-O,Nc6,Qa4,O-O,Bxf6,Bxf6,Nd5,b5,Qb3,Be6,Qg3,Bxd5,Rxd5,Ne5,f4,Bh4,Qe3,Qf6,g3,Ng4,Qf3,Qe6,gxh4,Nf6,Bh3,Qxe4,Qxe4,Nxe4,Re1,Nf2,Bg2,Rfe8,Rxe8+,Rxe8,Rxd6', 'Re1+,Kd2,Rd1+,Ke2,Rxd6', 'https://lichess.org/training/ySPYP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ySRgG', 'Rapid', 'nightlight_25', 1878, 'SillyOldDog', 1894, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,a6,c4,g6,Be3,Bg7,Nc3,O-O,Be2,Nc6,O-O,Qb6,Nxc6', 'Qxe3+,Kh1,bxc6', 'https://lichess.org/training/ySRgG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YSsjZ', 'Rapid', 'mustafakurtdere', 1729, 'alyam', 1757, 'e4,c5,Bc4,e6,e5,d5,exd6,Bxd6,Nf3,Nf6,Nc3,Nc6,d4,cxd4,Nxd4,Bc5,Nxc6,Qxd1+,Nxd1,bxc6,O-O,O-O,Bg5,Ne4,Be3,Bxe3,fxe3,e5,b3,Nd2,Rf2,Nxc4,bxc4,Be6,Nb2,Rab8,Nd3,Bxc4,Nxe5,Bd5,c4,Be4,Rf4,f5,Nd7,Rb2,Nxf8,Rxg2+,Kf1,Rxh2,Ne6', 'Rh1+,Kf2,Rxa1', 'https://lichess.org/training/YSsjZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YsSRL', 'Rapid', 'musicman124', 1621, 'OKALE', 1648, 'Nf3,Nc6,e3,e5,Bb5,d6,Bxc6+,bxc6,b3,Qf6,Bb2,Ba6,c4,Qg6,Nc3,Qxg2,Rg1,Qh3,Qe2,Qd7,O-O-O,Nf6,Ng5,d5,Qf3,dxc4,b4,Bxb4,Nce4,Qd5', 'Nxf6+,gxf6,Qxf6', 'https://lichess.org/training/YsSRL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysTW9', 'Rapid', 'dontcallmeemyphant', 1842, 'rapidphaseofsleep', 1800, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bg4,Bf4,e6,Nc3,Ne7,Be5,a6,Ba4,Ng6,h3,Bxf3,Qxf3,Nxe5,dxe5,Be7,Bxc6+,bxc6,O-O-O,Rb8,Na4,Qa5,b3,c5,Qg4,g6,Qf4,Qd8,Qh6,Bg5+,Qxg5,Qxg5+,Kb1,Qxg2,Nxc5,Qxf2,Nxa6,Rc8,Rc1,O-O,h4,h5,Nb4,Qb6,Nd3,Ra8,Rcg1,Ra7,Nf4,Kh7,Rg5,Qd4,Ne2,Qe3,Ng3,Rfa8,a4,Rc7,Nf1,Qe4,Rh2,Rac8,Rgg2,Qe1+,Kb2,Qxe5+,Ka3,Qd6+,Kb2,Qe5+,Ka3,Rxc2,Rxc2,Rxc2,Rxc2,d4,Nd2,d3,Rb2,Qe1,Nf3,d2,Nxd2,Qc1,Ne4,f5,Ng5+,Kg7,Nxe6+,Kf6,Ng5,f4,Ka2,Kf5,Rb1,Qc3,Rb2,Kg4,Rg2+,Kxh4,Ne4,Qd3', 'Rh2+,Kg4,Nf2+', 'https://lichess.org/training/ysTW9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysui1', 'Rapid', 'stefanovithc', 2120, 'm_meto', 2032, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,c3,Nf6,Qb3,O-O,Nxd4,Nbd7,Nf5,Nc5,Qc2,Bxf5,exf5,d5,Be2,c6,O-O,Bd6,Kh1,Bc7,Bg5,Qd6,g3,Nfe4,Bf4,Qd7,Be3,Rfe8,Nd2,Nxd2,Qxd2,Ne4,Qc2,Qxf5,Bd3,Qf3+,Kg1,f5', 'Be2,Qxe3,fxe3', 'https://lichess.org/training/ysui1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ysv0l', 'Blitz', 'MarinaAlekseevna', 1700, 'valery1986', 1704, 'e4,e6,d4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Bf4,Ngf6,Nbd2,Be7,O-O,O-O,b3,Rc8,c4,dxc4,bxc4,Nb6,Rc1,Nh5,Be3,Nf6,Qb3,Ng4,h3,Nxe3,fxe3,Rb8,Ne5,Bf6,Nd3,Bg5,Rfe1,Nd7,Ne4,Bh6,Nec5,Nxc5,Nxc5,Qh4,Nd7,b6,Nxf8,Rxf8,c5,bxc5,dxc5,Bg5,Qc4,Qg3,Qd4,Bf6,Qf4,Qg6,c6,e5,Qf2,Rc8,c7,e4,Red1,h6,Qd2,Be5,Qd8+,Rxd8,cxd8=Q+,Kh7,Rc5,Qg3,Qd2,Qh2+,Kf2', 'Bg3+,Kf1,Qh1+,Ke2,Qxg2#', 'https://lichess.org/training/Ysv0l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YsV1j', 'Rapid', 'Ismayol2', 2023, 'Gantmajer', 2025, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,d3,O-O,Be3,Ng4,Nbd2,Be6,Bb3,Nd7,Qe2,Nc5,Bxc5,dxc5,h3,Nf6,Bxe6,fxe6,Nc4,Nh5,Ncxe5,Nf4,Qd1,Bd6,c3,Qf6,d4,cxd4,cxd4,Rad8,Kh2,Nh5,g3,g5,Qb3,b6,Ng4,Qxf3,Qxe6+,Qf7', 'Nh6+,Kg7,Nxf7', 'https://lichess.org/training/YsV1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysVdV', 'Classical', 'AfroBoy', 1794, 'ArseniiPodvalni', 1693, 'c4,e5,Nc3,g6,e3,Nc6,d4,exd4,exd4,Qe7+,Be2,Bg7,Nf3,d6,O-O,Nf6,Re1,O-O,d5,Ne5,Bg5,Nxf3+,Bxf3,Qd8,Qd2,Bf5,a3,Re8,Ne2,Qd7,Ng3,Bg4,Bxg4,Nxg4,h3,Nf6,Rab1,b6,Qf4,Rxe1+,Rxe1,Ne8', 'Re7,Qxe7,Bxe7', 'https://lichess.org/training/ysVdV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ySwgP', 'Rapid', 'CESARPC', 1911, 'EMANDE01', 1916, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,a6,c3,e6,O-O,b5,Bb3,Be7,Re1,O-O,d4,c4,Bc2,Nc6,Be3,Ng4,Bf4,e5,dxe5,Ngxe5,Nxe5,Nxe5,Qh5', 'Bg4,Qxg4,Nxg4', 'https://lichess.org/training/ySwgP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YSwyp', 'Classical', 'theTal', 1779, 'Kenny_Cordero', 1751, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,g3,Bg4,Bg2,Ne5,Nxe5', 'Qxe5+,Kf1,Bxd1', 'https://lichess.org/training/YSwyp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ySZ79', 'Classical', 'sakaroo', 1678, 'vwcares', 1675, 'e4,d6,d4,e6,Nf3,h6,c4,c6,Nc3,a6,Bf4,Ne7,e5,d5,Bd3,b5,cxd5,Nxd5,Nxd5,cxd5,Rb1,Bb4+,Bd2,Bxd2+,Qxd2,Ra7,O-O,Rc7,Rbc1,O-O,Rxc7,Qxc7,Rc1,Qd7,Qc2,Bb7,Qc7', 'Rc8,Qxc8+,Bxc8', 'https://lichess.org/training/ySZ79');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YszVJ', 'Blitz', 'mMelo_BR', 1658, 'inigo_galar', 1655, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Bc5,O-O,d6,Be3,Bxe3,fxe3,Nf6,Qf3,Rb8,b3,O-O,h4,d5,exd5,cxd5,Bd3,Ng4,Qg3,Qb6,Re1,f5,Nd2,f4,Qf3,e4,Bxe4,dxe4,Nxe4,fxe3,Qg3,Qd4,Ng5,e2+,Kh1,Qxa1,Rxa1', 'Rf1+,Rxf1,exf1=Q#', 'https://lichess.org/training/YszVJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ysZwm', 'Rapid', 'ludilobes', 2046, 'jeffrey73', 1943, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,c6,O-O,Bg4,h3,Bh5,d4,Nd7,Nc3,e6,Bxd5,cxd5,Bf4,Be7,g4,Bg6,Qe2,O-O,Rfe1,Nf6,Rac1,Bb4,Kg2,Ne4,h4,h6,g5,hxg5,hxg5,f6,Rh1,fxg5,Be5,Bf5,Bxg7,Kxg7,Ne5,Nxc3,Qh5,Rh8', 'Qf7#', 'https://lichess.org/training/ysZwm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yt12v', 'Classical', 'prentice_sloth', 1898, 'cqqzg', 1728, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,Qd2,d5,O-O-O,dxc4,e3,b5,Nxb5,a6,Nc3,Nc6,Bxc4,Nb4,a3,Nbd5,e4', 'Nxc3,Qxc3,Nxe4', 'https://lichess.org/training/Yt12v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yT643', 'Classical', 'Raven_Darkholme', 2000, 'Chris64SQ', 1962, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Bb5,Bd7,Nc3,a6,Re1+,Be7,Bxc6,Bxc6,Ne5,Nf6,Nxc6,bxc6,Qe2,d4,Ne4,O-O,d3,Re8,Bf4,Nd5,Bg3,Qd7,Qh5,Rab8,Bxb8,Rxb8,Qe5,Rxb2,Rab1,Rxc2,Rb8+,Bf8,Nxc5,Rxc5,Qxd4,Rb5,Ra8,Qe6,Kf1,Qh6,Qe5,Qf4', 'Rxf8+,Kxf8,Qe8#', 'https://lichess.org/training/yT643');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTaD0', 'Rapid', 'ikechukwu200', 1949, 'Reza5757', 1976, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nc3,Nf6,Bc4,Be7,O-O,O-O,h3,h6,Be3,Nxd4,Bxd4,Be6,Nd5,c6,Nxe7+,Qxe7,Bd3,c5,Be3,c4,Be2,Nxe4,f4,Ng3,Bf3,Nxf1,Qxf1,Bxh3,Bd4,Bf5,Qf2,Rfe8,Bd5,Be6,Re1,Qf8,Bxb7,Rab8,Bc6,Rec8,Bf3,Bf5,Rb1,a5,Bc3,a4,a3,Qe7,Re1,Qd7,Qg3,f6,Bxf6,Kh7', 'Re7,Qxe7,Bxe7', 'https://lichess.org/training/YTaD0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ytAQE', 'Rapid', 'mato35', 1654, 'Voll-Horst', 1668, 'd4,d5,Bf4,Nf6,e3,e6,Bd3,Bd6,Bg3,Bxg3,hxg3,O-O,Nd2,Nc6,c3,Ne7,Ngf3,Ng6,Qc2,a6,O-O-O,b5,Bxg6,fxg6,Ng5,Nh5,g4,Qxg5,f4,Nxf4,exf4,Qxf4,Kb1,Bd7,Rh4,a5,Rdh1,h6,Qxg6,Qg5,Qd3,Rf6,a3,c6,Nf3,Qf4,g5,Qg3,gxf6,Qxg2,Ka2,b4,cxb4,axb4,fxg7', 'Rxa3+,Qxa3,bxa3,R1h2,Qxf3', 'https://lichess.org/training/ytAQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTBwv', 'Classical', 'ziklopentffnon', 1737, 'HugoMR', 1673, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,cxd5,exd5,Nf3,O-O,Bxf6,Bxf6,e4,Re8,Be2,c6,e5,Bg5,O-O,Na6,Bd3,Nb4,Bb1,b6,a3,Na6,Qc2,g6,h4,Bxh4,Qd2,Bg4,Qe3,Nc7,Bc2,Ne6,Bd1,Bxf3,Bxf3,Bg5,Qe1,Nxd4,Qd1,Nxf3+,Qxf3,Rxe5,Qg3,Qf6,f4,Rf5,fxg5,Qd4+,Kh1,Rxf1+,Rxf1,Re8,Qf3,Re7,Qf6,Qh4+,Kg1,Rb7,Qxc6,Qd4+,Rf2,Re7,Qf6', 'Re1+,Kh2,Qh4#', 'https://lichess.org/training/YTBwv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTcFk', 'Rapid', 'Liparit', 1743, 'matuskaya', 1832, 'e4,d5,e5,c5,d4,Bf5,dxc5,e6,Be3,Nc6,f4,Nge7,b4,a6,a3,Ng6,c4,Be4,Nc3,Bxg2,Bxg2,Qh4+,Kf1,O-O-O,Nf3,Qg4,h3,Qg3,Qe1,Qxe1+,Nxe1,d4,b5,Na5,Bxd4,Rxd4,bxa6,bxa6,Rb1,Rxf4+,Ke2,Bxc5,Nd3,Rxc4,Ne4,Rc2+,Kf3,Bd4,Nb4,Nh4+,Kg4,Rxg2+,Kxh4,Bxe5,Nxa6,f5,Rhc1+,Kd8,Rd1+,Ke7,Rb5,g5+,Nxg5,Bf6,Rxa5,Bxg5+,Kh5,Rg3,Nc5,Rxh3+,Kxg5,Rg8+,Kf4', 'Rg4+,Ke5,Re3+,Ne4,Rexe4#', 'https://lichess.org/training/YTcFk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ytCwE', 'Rapid', 'mishabelous', 1857, 'staunton0302', 1851, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,dxe5,Nf5,Bd2,h6,Re1,Be6,Nc3,Bc5,Ne4,Qe7,Nxc5,Qxc5,a3,O-O-O,Bb4,Rxd1,Bxc5,Rxa1,Rxa1,b6,Bb4,c5,Bd2,Nd4,Nxd4,cxd4,Rd1,c5,b4,Re8,f4,Bg4,Re1,c4,Re4,c3,Be1,Rd8,Bf2,Bf5,Rxd4,Rxd4,Bxd4,Bxc2,Bxc3,Kd7,Kf2,Kc6,Ke3,Kd5,Kd2,Be4,g3,Ke6,Ke3,Kf5,e6,fxe6', 'g4+,Kxg4,Kxe4', 'https://lichess.org/training/ytCwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTd68', 'Rapid', 'Alexflex', 1739, 'adnan35', 1775, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,Bd6,Bg3,c6,Nbd2,Bxg3,hxg3,Nbd7,Bd3,O-O,g4,Nxg4,Bxh7+,Kh8,Ng5,Nh6,f4,f6,Nxe6,Qe7,Bf5,Re8,Nc7', 'Qxe3+,Kf1,Qxf4+', 'https://lichess.org/training/YTd68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTEgI', 'Blitz', 'hhc8', 1776, 'mgeno', 1775, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,Nf6,Bd3,Be7,f4,O-O,O-O,exf4,Bxf4,Ne5,Nc4,Bg4,Qe1,b5,Ne3,Be6,Rd1,Qb6,Kh1,Neg4,Nf5,Bxf5,exf5,Rfe8,Qg3,Ne5,Bxe5,dxe5,Rde1,Bd6,Ne4,Nxe4,Rxe4,f6,Rg4,Re7,Be4,Rd8,Bd5+,Kh8,Be6,e4,Qh3,e3', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/YTEgI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTFCj', 'Blitz', 'Berty82', 1920, 'olkor1974', 1938, 'd4,d5,c4,c6,Nc3,e6,e3,Bb4,Nf3,f5,Ne5,Nf6,Be2,Nbd7,Bh5+,g6,Bf3,Bxc3+,bxc3,Nxe5,dxe5,Ne4,Bxe4,fxe4,Qg4,O-O,O-O,Qa5,Bd2,Bd7,f3,exf3,gxf3,Qa4,Rf2,Rf7,h4,Qxc4,Qg5,Re8,Kh2,Rf5,Qg3,Kh8,Re1,Qxa2,e4,dxe4,fxe4,Rxf2+,Qxf2,Kg8,Re2,Qc4,Bh6,b6,Kh3,Qc5,Re3,Qxe5,Rf3,Qd6,Rf7,e5+,Kh2,Qe6', 'Rf8+,Rxf8,Qxf8#', 'https://lichess.org/training/YTFCj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yTfgu', 'Blitz', 'kreausten', 2168, 'CM Monsieur3044', 2362, 'd4,f5,c4,Nf6,Nc3,g6,Bg5,Bg7,Qd2,d6,h4,h6,Bxf6,Bxf6,e4,c5,Nf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,Qa5,h5,g5,a3,Rb8,O-O,O-O,b4,Qe5,Rac1,f4,Be2,Be6,Qd1,Rfd8,Re1,a5,Qa4,axb4,axb4,Qd4,Qxc6,Rdc8,Qa4,Bxc4,Red1,Qe5,Bxc4+,Rxc4,Qb3,Rxb4,Qa2,Kg7,Nd5,Rxc1,Rxc1,Rxe4,Nxf6,Re1+,Rxe1,Qxe1+,Kh2,Kxf6,Qg8,Qxf2,Qg6+,Ke5,Qxh6,Qh4+,Kg1,f3,Qg7+,Kf4,Qf7+,Ke5,Qxf3,Qe1+,Kh2,Qe4', 'Qxe4+,Kxe4,h6', 'https://lichess.org/training/yTfgu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ytfxo', 'Rapid', 'Soheil4444', 1848, 'wawetel', 1791, 'd4,f5,c4,Nf6,Bg5,e6,Nc3,Be7,Nf3,Ne4,Bf4,Nxc3,bxc3,O-O,e3,d6,h3,Nc6,Bg3,Bf6,Bd3,Qe8,O-O,e5,dxe5,dxe5,Bc2,Be6,Bb3,Bf7,Re1,Kh8,Qc2,Bg6,Qb2,Rd8,Ba4,Qe6,Qxb7,Qxc4,Qxc6,Qf7,Bxe5,Bh5,Bxf6,Bxf3,Bxd8,Bxc6,Bxc6,Rxd8,Rad1,Rd6,Rxd6,cxd6,Rb1,g6', 'Rb8+,Kg7,Rb7,Qxb7,Bxb7', 'https://lichess.org/training/ytfxo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ytgnE', 'Blitz', 'OpirusD', 1931, 'mohsen851', 1967, 'c3,b6,d3,Bb7,Nd2,e6,Ngf3,Nf6,h3,Be7,g4,O-O,Bg2,c5,Qc2,d5,Nh2,Nc6,g5,Nh5,h4,Nf4,Bf1,d4,Ne4,dxc3,Bxf4,cxb2,Qxb2,Nd4,Ng4,f5,gxf6,Bxf6,Ngxf6+,Rxf6,Bg5,Bxe4,Bxf6', 'Qxf6,dxe4,Nf3+,exf3,Qxb2', 'https://lichess.org/training/ytgnE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YtgvS', 'Blitz', 'fbatch', 1582, 'StefanoF', 1603, 'e4,c5,Nf3,Nc6,c3,e6,d4,d5,e5,cxd4,cxd4,f6,Bb5,Bd7,O-O,a6,Ba4,b5,Bb3,Rc8,exf6,Nxf6,Ne5,Bd6,Nxd7,Qxd7,Be3,Qc7,g3,O-O,Qd2,Ne4,Qe1,Rf3,Nd2,Nxd2,Bxd2,Nxd4,Rc1,Qd7,Bc3,Bb4,Bxb4,Rxc1,Qe5,Rxf1+,Kxf1,Nxb3', 'Qb8+,Kf7,Qf8+,Kg6,Qxf3', 'https://lichess.org/training/YtgvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ytgYE', 'Rapid', 'PhantomBishop', 1666, 'nicobelo91', 1659, 'e4,e5,Nf3,Nc6,Bc4,Be7,Nc3,Nf6,a3,Nxe4,Bxf7+,Kxf7,Nxe4,Rf8,d3,d5,Ng3,Bg4,h3,Bxf3,Qxf3+,Kg8,Qg4,Nd4,Bh6,Rf7,O-O-O,Qf8,f3,a5,Nh5,b5,Rhf1,Bxa3,bxa3,Qxa3+,Kd2,g6,Be3,c5,Bxd4,cxd4,Ng3,Qc3+,Ke2,Qxc2+,Rd2,Qc8,Qg5,Qe6,Rc1,b4,Rdc2,b3,Rc6,Qxc6', 'Rxc6,b2,Rb6', 'https://lichess.org/training/ytgYE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yTIUf', 'Rapid', 'magicae_fungus', 1626, 'ShampooMacTavish', 1662, 'e3,e5,d4,d6,dxe5,d5,f4,c6,Bd3,Nd7,b3,b6,Bb2,Bb4+,c3,Bc5,Qe2,Qh4+,g3,Qe7,b4,Bxb4,cxb4,a5,b5,c5,Nc3,Bb7,Na4,d4,Nf3,dxe3,Qxe3,Rd8,O-O,f6,e6,Nf8,f5,Rd6,Rad1,Nh6,Be4,Bxe4,Qxe4,Qc7,Qa8+,Ke7,Rxd6,Qxd6,Qb7+,Ke8,Nxb6,Nxf5,Re1,Nxe6,Qc8+,Kf7,Qxh8,Qxb6,Qxh7,c4+,Kg2,Ne3+,Kh3,Ng5+,Nxg5+,fxg5,Qxg7+,Ke8,Bd4', 'Qe6+,g4,Qxg4#', 'https://lichess.org/training/yTIUf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTj4w', 'Blitz', 'Lluisnr', 2194, 'CM JaymeMiranda', 2267, 'Nf3,c6,g3,d5,Bg2,e6,O-O,Nf6,b3,Be7,Bb2,O-O,d4,Nbd7,Nbd2,b6,Rc1,Bb7,c4,Rc8,Re1,c5,cxd5,Bxd5,e4,Bb7,e5,Nd5,Ne4,cxd4,Bxd4,Nb4,a3', 'Rxc1,Qxc1,Nd3', 'https://lichess.org/training/YTj4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTJH7', 'Rapid', 'leonardo48', 1778, 'gameofallgames', 1762, 'e4,e6,Nf3,c6,Nc3,a6,Bc4,b5,Bb3,b4,Na4,Nf6,e5,Nd5,d4,Be7,a3,a5,h3,O-O,O-O,Ba6,Re1,Bb5,Re4,f5,exf6,Bxf6,Nc5,a4,Bxd5,exd5,Rg4,bxa3,bxa3,Na6,Nb7,Qc7,Nc5,Nxc5,Bf4,Ne6,Bxc7,Nxc7,c3,Rae8,Qc2,Re2,Qf5,Ne6,Ne5', 'Bxe5,Qxe5,Rxe5', 'https://lichess.org/training/YTJH7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTJlz', 'Classical', 'telpago1', 1624, 'omidzeynali', 1626, 'd4,Nf6,Nf3,c6,Bf4,Na6,e3,d5,a3,c5,c4,cxd4,Nxd4,dxc4,Bxc4,e5,Bxe5', 'Qa5+,Nc3,Qxe5', 'https://lichess.org/training/YTJlz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTJyJ', 'Rapid', 'BlunderET', 1819, 'zeb2017', 1861, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,Be7,f4,O-O,a3,Rc8,Kh1,a6,Qe1,Re8,e5,dxe5,fxe5,Ng4,h3,Ngxe5,Bf4,f6,Nxe6,Qb6,Bxe5,Nxe5,Nf4,Qxb2,Ncd5,Rxc2,Nxe7+,Rxe7,Qb4,Qxb4,axb4,Rd7,Rac1,Rb2,Rb1,Rxb1,Rxb1,g5,Nh5,Kf7,Rf1,Rd6,Ng3,Nd3,Ne4,Rb6,Nxg5+,Kg6,Ne4,Nxb4,Rf3,a5,Rg3+,Kf5,Nc5,Rc6,Nxb7,a4,Ra3,Nd5,Rxa4,Ne3,Ra5+,Kf4,Nc5,Nf1,Kg1,Ng3,Nd3+,Ke3,Kh2,Ne4,Ne1,Rc1,Ra3+,Ke2,Nf3,Nf2,Ra2+,Ke3,Kg3,Nh1+,Kh2,Nf2,Ng1,Ne4,Re2+,Kd3,Ra2,Ke3,Ra3+,Kf2', 'Rf3+,Ke1,Re3+', 'https://lichess.org/training/YTJyJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ytk6C', 'Rapid', 'sonny89', 1613, 'Ogulcan1234', 1647, 'e4,d5,exd5,c6,dxc6,Nxc6,Nc3,e6,Nf3,Nf6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,d4,Bb4,Bd2,Qa5,a3,Bxc3,Bxc3,Qf5,Re1,Ne4,Bb4,Ng5,Nh4,Qf4,g3', 'Nh3+,Kf1,Qxf2#', 'https://lichess.org/training/ytk6C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTkHe', 'Rapid', 'timoffei09', 1710, 'SiggiHD', 1781, 'e4,e5,Nf3,Nf6,d4,Nxe4,Nxe5,Qe7,Bc4,Nd6,O-O,b5,Re1,bxc4,Nxf7,Qxe1+,Qxe1+,Kxf7,Bf4,Nc6,Nc3,Nxd4,Qd2,Ne6,Re1,Nxf4,Qxf4+,Kg8,Nd5,Rb8,Nxc7,Rxb2,Ne8,Nxe8', 'Qxc4+,d5,Qxd5+,Be6,Qxe6#', 'https://lichess.org/training/YTkHe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTkwg', 'Blitz', 'hvoldel', 1828, 'Laugh2456', 1947, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Be7,Re1,d6,h3,Bb7,c3,O-O,d4,h6,Bc2,Re8,d5,Nb8,a4,c6,axb5,axb5,Rxa8,Bxa8,dxc6,Bxc6,Nbd2,Nbd7,Nf1,Nc5,Ng3,Qa8,b4,Ncxe4,Nxe4,Nxe4,Qd3,Nf6,Nh4,e4,Qd4,Nd5,Qxe4,Bxh4', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/YTkwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yTKyS', 'Rapid', 'Capa5274', 1935, 'BoKemp', 1976, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nc6,Nf3,e6,Bg5,Nf6,e3,Be7,Qb3,O-O,Bd3,Nb4,Be2,a5,Ne5,Bd7,Nxd7,Qxd7,a3,Nc6,Bb5,Rfc8,O-O,Qd8,Bxc6,Rxc6,Qxb7', 'Rb6,Qxa8,Qxa8', 'https://lichess.org/training/yTKyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ytMaz', 'Rapid', 'wheniam64', 1908, 'Ronald999', 1874, 'Nf3,d5,d3,Nf6,Nbd2,e5,e4,dxe4,dxe4,Nc6,Bc4,Bc5,O-O,Bg4,c3,Qe7,b4,Bb6,a4,a6,Ba3,Qd7,Qc2,O-O-O,Ng5,Be6,Bxe6,fxe6,Nc4,h6,b5,Qd3,Qb3,hxg5,bxc6,Nxe4,cxb7+,Kxb7,a5,Qxc3,Qxc3,Nxc3,axb6', 'Ne2+,Kh1,Rxh2+,Kxh2,Rh8#', 'https://lichess.org/training/ytMaz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YtMdj', 'Rapid', 'ZanoZano', 1688, 'Ibeabuchi', 1810, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb3,Nxb3,axb3,Nxd5,d4,Be7,Nf3,exd4,Nxd4,O-O,O-O,b6', 'Nc6,Qe8,Qxd5', 'https://lichess.org/training/YtMdj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTNYO', 'Classical', 'Gavrik', 1645, 'Ferdinand4', 1620, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,O-O,Nc3,b6,d3,Bb7,Bg5,Nd4,a3,Be7,Nxe5,h6,Bh4,Re8,Nf3,d5,Nxd5,Nxd5,exd5', 'Nxf3+,Qxf3,Bxh4,Rxe8+,Qxe8', 'https://lichess.org/training/YTNYO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yToPa', 'Classical', 'AlirezaNasa', 1759, 'stajpo', 1774, 'd4,d5,Nf3,Nf6,Bf4,h6,e3,Bg4,Be2,Bxf3,Bxf3,e6,Nd2,Bd6,Be2,a6,Nf3,Bxf4,exf4,Nbd7,O-O,O-O,c4,dxc4,Bxc4,c6,Qb3,b5,Be2,Qc7,Ne5,Nxe5,fxe5,Nd5,Rac1,Rfc8,Qf3,Qb6,Qe4,f5,exf6,Nxf6,Qxe6+,Kh8,Bf3,Rab8,Rfd1,Rc7,Rxc6,Rxc6,Bxc6,Re8,Qxe8+,Nxe8,Bxe8,Qd6,d5,Kg8,Bc6,b4,Re1,a5,Re6,Qc5,g3,Kf8,b3,Qc2,Ba4', 'Qd1+,Kg2,Qxd5+', 'https://lichess.org/training/yToPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ytot1', 'Blitz', 'NM Iwasinelectrical', 2254, 'piotrek212', 2326, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bg5,Be7,Nxf6+,Nxf6,Bd3,O-O,O-O,b6,c3,Bb7,Bc2,h6,Bh4,Qd5,Re1,c5,dxc5,Qxc5,Qe2,Rad8,Rad1,Qh5,Bg3,Qa5,Bb3,Qc5,Nd4,Nd5,Bc2,Bf6,Qe4,g6,Qe2,Rfe8,Qg4,Nxc3,bxc3,Qxc3,Bxg6,fxg6,Qxg6+,Bg7,Nxe6,Qf6,Qg4', 'Rxd1,Qxd1,Rxe6', 'https://lichess.org/training/ytot1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yTPpv', 'Blitz', 'gaelazzo', 1885, 'Ekorhicharles', 1832, 'e4,e5,Nf3,Nc6,Nc3,d6,a3,Nf6,h3,Be6,d4,exd4,Nxd4,Ne5,Nxe6,fxe6,Bg5,Be7,f4,Ned7,Bc4,d5,exd5,exd5,Bxd5,Nxd5,Bxe7,Nxe7,O-O,O-O,Qg4,Nf6,Qg5,Ng6,Rad1,Qe7,Rfe1,Qf7,f5,Nh8,Ne2,Qc4,Nf4,Ne4,Rxe4,Qxe4,Ne6,Rf7', 'Rd8+,Rxd8,Qxd8+,Rf8,Qxf8#', 'https://lichess.org/training/yTPpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ytPTl', 'Blitz', 'Cccpurss', 1957, 'patatra21', 1970, 'b4,c6,Bb2,Qb6,a3,a5,c3,axb4,cxb4,c5,Qb3,e6,b5,Ra5,a4,d5,d3,Bd7,g3,c4,dxc4,dxc4,Qxc4,Nf6,Bg2,Bc5,e3,O-O,Bxf6,gxf6,Nf3,Bxb5,Qg4+,Kh8,Bf1,Bxf1,Kxf1,Nd7,Kg2,Ne5,Nxe5,fxe5,Nd2,Qb2,Nf3,Bxe3,Rhf1,Bxf2,Kh1,Rg8,Qh4,Qe2,Qf6+,Rg7,Ng5,h6,Nxf7+,Kg8,Nxh6+,Kh7,Nf7', 'Qe4+,Qf3,Qxf3#', 'https://lichess.org/training/ytPTl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yTqbW', 'Blitz', 'Eugney', 1697, 'PapayaDK', 1678, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,g6,d5,Ne5,f4,Qa5+,Bd2,Qb6,Bc3,Qe3+,Qe2', 'Nd3+,Kd1,Qc1#', 'https://lichess.org/training/yTqbW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YtqGt', 'Blitz', 'NM TioCridineno', 2369, 'dede967', 2143, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,Nb3,Nc6,f4,Be6,g4,a6,f5,Bxb3,axb3,b5,g5,Nd7,h4,b4,Nd5,e6,Nf4,exf5,exf5,gxf5,O-O,Bxb2,Bc4,Nde5,Bd5,Bxa1,Qxa1,Ne7,Bg2,N7g6,Nh5,Rc8,Nf6+,Kg7,h5,Rxc2,hxg6,fxg6,Qxa6,Rxf6,gxf6+,Qxf6,Qa7+,Qf7,Qb6,Qxb3,Qb7+,Qf7,Qxb4,Rc4,Qxd6,Qf6', 'Bh6+,Kxh6,Qxf6', 'https://lichess.org/training/YtqGt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTSa1', 'Blitz', 'Aleksey_Spiryn', 1650, 'Pasha1136', 1603, 'e4,e6,Nf3,d5,e5,c5,d4,Nc6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,dxc5,Bxc5,Nc3,b5,Bg5,Ne7,a3,h6,Bh4,g5,Bg3,Nf5,b4,Bb6,a4,h5,h3,h4,Bh2,Ng3,Bxg3,hxg3,axb5,gxf2+,Kh2,axb5,Rxa8,Bxa8,Nxb5,g4,Nfd4,Rxh3+,gxh3,Qh4,Qxg4,Qh8,Rxf2,Qxe5+,Kg1,Qe1+,Kg2,f5,Qg8+,Ke7,Qxa8,Qe4+,Rf3,Bxd4,Qb7+,Kf6,Nxd4,Qxd4,b5,Qe4,Qd7,Qe2+,Kg3,Qxc2,b6,Qb1,b7', 'Qg1+,Kh4,Qg5#', 'https://lichess.org/training/YTSa1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yTsrU', 'Rapid', 'arsalansh', 1890, 'caffeinemachine', 1882, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,c3,c5,Nf3,Nc6,Na3,cxd4,cxd4,Rc8,Nb5,a6,Nc3,Nb4,Qd2,Ne7,a3,Nbc6,O-O,Nf5,Qd3,Qb6,Rd1,Be7,b4,Qc7,Na4,O-O,g4,Nh4,Nxh4,Bxh4,Nc5,f5,Nxe6,Qf7,Nxf8,fxg4,Nxh7,Qxf2+,Kh1,g3,hxg3,Bxg3,Nf6+,Kf7,Ng4,Rh8+,Nh6+', 'Rxh6+,Bxh6,Qh2#', 'https://lichess.org/training/yTsrU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTv2V', 'Classical', 'grij1300', 1835, 'zinkelburger', 1842, 'd4,Nf6,Bf4,b6,e3,Bb7,Nf3,e6,c4,d6,Nbd2,Nbd7,Bd3,Be7,h3,h6,O-O,O-O,b4,d5,cxd5,Nxd5,a3,Nxf4,exf4,a5,b5,Nf6,Ne5,Nd5,Qc2,Nxf4,Be4,Bxe4,Qxe4,Nd5,Rfc1,Bf6,Ndf3,Ne7,Nc6,Nxc6,Rxc6,Qd7,Ne5,Bxe5,Qxe5,Rac8,Rac1,Rfd8,Rxc7,Rxc7,Rxc7,Qxd4,Qxd4,Rxd4,Rb7,Rd6,Rb8+,Kh7,Kf1,Kg6,Ke2,Kf6,Ke3,Kg6,Ke4,Kf6,g4,e5,h4,Ke6,Re8+,Kf6,g5+,hxg5,hxg5+,Kxg5,Kxe5,Rd2,Rb8,Re2+,Kd6,Rxf2,Rxb6,Rf3,Ra6,Rxa3,b6,a4,b7,Rb3,Kc7,f5', 'Rb6,Rxb6,Kxb6', 'https://lichess.org/training/YTv2V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YtVNb', 'Blitz', 'nitinrav12', 1655, 'Blessing016', 1549, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Bg5,Be7,Bxf6,Bxf6,Nf3,Be7,c4,c6,Bd3,a6,O-O,O-O,h4,b5,Nfg5,Bxg5,Nxg5,h6,Qh5,Qxd4,Rad1,Qxb2,cxb5,axb5,Nxf7,Rxf7,Qg6,Qf6,Qh7+,Kf8,Bg6,Rd7', 'Qh8+,Ke7,Qe8#', 'https://lichess.org/training/YtVNb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTx7u', 'Rapid', 'pensivesoul', 1695, 'kecha150', 1734, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nd4,Nc3,a6,Bc4,Nxf3+,Qxf3,Nf6,b3,h6,Bb2,d6,Nd5,Be6,Nxf6+,gxf6,Bxe6,fxe6,Qg4,Qe7,Rad1,O-O-O,d4,Rdg8,Qh3,exd4,Bxd4,Bxd4,Rxd4,Rg5,f4,Rg6,f5,exf5', 'Qxf5+,Kb8,Qxg6', 'https://lichess.org/training/YTx7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ytY4z', 'Rapid', 'abdallahgabr43', 1807, 'ANIL_VURAL', 1788, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,h3,h5,Nc3,Be6,Bg5,Qd4,Qd2,O-O-O,Be3,Qe5,O-O-O,Bb4,a3,Bxc3', 'Qxc3,Qxc3,bxc3', 'https://lichess.org/training/ytY4z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YTyl5', 'Rapid', 'SayCheckOneMoreTime', 1868, 'Titititan', 1968, 'e4,e5,d4,exd4,c3,Nc6,cxd4,Bb4+,Nd2,Nf6,e5,Ne4,Nf3,O-O,Bd3,Nxd2,Bxd2,d6,Qe2,Bg4,Qe4,f5,Bc4+,Kh8,Qd5,Ne7,Qb5,Bxf3,Bxb4,Bxg2,Rg1,Bc6,Qa5,dxe5,Qxe5,Ng6,Qg3,Re8+,Be2,f4,Qg4,f3,O-O-O,fxe2,Rd3,Be4,Rh3,Qxd4,Bc3,Qxf2,Bxg7+,Kxg7,Qd7+,Re7,Qxe7+,Qf7', 'Rxh7+,Kxh7,Qxf7+', 'https://lichess.org/training/YTyl5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yu09Z', 'Blitz', 'Obiwan_Lichobi', 1660, 'migue1971', 1781, 'd4,f5,Nc3,Nf6,Bg5,e6,e3,Bb4,Qd3,b6,h3,Bb7,O-O-O,O-O,Nf3,Qe8,Be2,Ne4,Nxe4,fxe4,Qc4,exf3,gxf3,Bd6,Rhg1,Bxf3,Bxf3,Rxf3,d5,Kh8,Qe4,Rf8,Qd4,e5,Qe4,Na6,Rg4,Nc5,Qg2,Be7,Rh4,Bxg5,Qxg5,Qf7,Rg1,d6,Rhg4,Rg8,Rh4,Raf8', 'Rxh7+,Kxh7,Qh4+,Qh5,Qxh5#', 'https://lichess.org/training/yu09Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yu1Cy', 'Rapid', 'uzytkownik314', 1710, 'camhenryrfc', 1753, 'Nc3,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nb5,a6', 'Qe5+,Be7,Nxc7+,Kf8,Nxa8', 'https://lichess.org/training/yu1Cy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YU1Y3', 'Rapid', 'Kazan2502', 2135, 'vid', 2278, 'Nf3,d5,d4,Nf6,c4,e6,Nc3,Be7,Bf4,O-O,e3,Nbd7,a3,c5,dxc5,Nxc5,Be2,dxc4,Bxc4,b6,Qxd8,Rxd8,Ke2,a6,Rhd1,Bb7,Rxd8+,Bxd8,Rd1,b5,Ba2,Rc8,h3,Nfe4,Nxe4,Nxe4,Bb1,g5,Bh2,Bf6,Be5,Bxe5,Nxe5,Nc5,f3,Bd5,Rc1,f6,e4,Bb7,b4,Na4,Rxc8+,Bxc8,Nc6,Nc3+,Kd3,Nxb1,Ne7+,Kf7,Nxc8,Nxa3,Kd4,Nc4,Kc5,h5,Nd6+,Nxd6,Kxd6,a5,bxa5,b4,a6,b3,a7,b2,a8=Q,b1=Q,Qa7+,Kg6,Kxe6,Qb3+,Kd6,Qd3+,Ke7,Qb5,Qc7,Qb4+,Qd6,Qb7+,Ke6', 'Qf7#', 'https://lichess.org/training/YU1Y3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yu2lA', 'Rapid', 'KOTBAPKOT', 1715, 'seva_korolev', 1726, 'e4,c6,d4,d5,Nf3,dxe4,Nfd2,Nf6,Qe2,Bg4,Qe3,h5,Nc3,g6,Ndxe4,Nxe4,Nxe4,Bh6', 'Nf6+,Kf8,Qxh6+,Rxh6,Bxh6#', 'https://lichess.org/training/Yu2lA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yu41o', 'Blitz', 'Springerschach70', 1574, 'ion777', 1655, 'e4,c5,f4,Nc6,Nf3,b6,Bc4,Bb7,O-O,e6,f5,Qc7,fxe6,dxe6,Ng5,Nh6,c3,O-O-O,Qf3,Ne5,Qe2,Nxc4,Qxc4,Bd6,h3,Rdf8,d4,cxd4,Qxc7+,Bxc7,cxd4,Kd7,Nc3,f6,Nf3,g5,h4,Ng4,hxg5,fxg5,Nxg5', 'Bh2+,Kh1,Rxf1#', 'https://lichess.org/training/yu41o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yU4cC', 'Rapid', 'patzouille2000', 1871, 'Nadia1962', 1883, 'd4,d5,c4,e6,Nc3,Nf6,a3,a6,Bg5,Be7,e3,Nbd7,Nf3,c5,dxc5,Nxc5,b4,Nce4,Nxe4,Nxe4,Bxe7,Qxe7,cxd5,exd5,Qxd5,Nf6,Qb3,Be6,Qa4+,Bd7,Qb3,O-O,Nd4,Rac8,Bd3,b5,O-O,g6,Rac1,Ne4,Rfd1,Nd6,Qb1,Rxc1,Rxc1,Rc8,Rxc8+,Bxc8,Qc2,Bb7,f3', 'Qxe3+,Qf2,Qxd3', 'https://lichess.org/training/yU4cC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yu6GB', 'Blitz', 'synecdote', 2068, 'Pukkaman', 2144, 'e4,Nf6,Nf3,Nxe4,d4,d5,Bd3,g6,O-O,Bg7,c3,O-O,Bf4,c5,Nbd2,cxd4,cxd4,Nxd2,Qxd2,Nc6,Bh6,Bg4,Bxg7,Kxg7,Qf4,Bxf3,gxf3,Qb8,Qh4,Qd6,a3,e5,dxe5,Nxe5,Be2,d4,Qe4,d3,Bd1,f5,Qe3,Rad8,Re1,Rfe8,Qd2,Qd5,Kg2,g5,h3,f4,b4,Ng6,Qc3+,Kh6,Rxe8,Rxe8,Qf6,Kh5,Qg7,h6,Rb1,Re1,Bb3,Nh4+,Kh2,Nxf3+,Kg2,Rg1+,Rxg1,Nh4+,Kf1,Qxb3', 'Rxg5+,hxg5,Qh7#', 'https://lichess.org/training/Yu6GB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yu7KS', 'Rapid', 'carballo', 1640, 'baronrojo', 1637, 'd4,d5,f4,b6,e3,Ba6,c4,dxc4,Qa4+,Qd7,Qc2,b5,a4,c6,a5,e6,Nf3,Be7,Be2,Nf6,O-O,O-O,Ne5,Qc7,Nd2,Nfd7,Ndf3,f6,Ng4,Bb7,Bd2,Na6,e4,Bb4,e5,Bxd2,Nxd2,Nb4,Qb1,f5,Ne3,c5,Nf3,Bxf3,Bxf3,Rad8,d5,exd5,Nxd5,Nxd5,Bxd5+,Kh8,Rd1,a6,Qc2,Nb8,Qf2,Qe7,Bf3,Rd3,Rac1,Rfd8,Kf1,Nc6', 'Rxd3,cxd3,Bxc6', 'https://lichess.org/training/yu7KS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yUB7t', 'Blitz', 'jemba_jemba', 2315, 'FM A-Mo-A', 2372, 'Nf3,d5,c4,e6,b3,Nf6,Bb2,Bd6,e3,Nbd7,d4,c6,c5,Bc7,b4,Qe7,Bd3,e5,dxe5,Nxe5,Nxe5,Bxe5,Qc2,Bxb2,Qxb2,O-O,O-O,Ne4,Nd2,Bf5,Nxe4,Bxe4,Bxe4,Qxe4,Qd4,Qxd4,exd4,Rfe8,Rfe1,a6,f3,f6,Kf2,Kf7,Rxe8,Rxe8,a4,f5,b5,f4,bxc6,bxc6,Rb1,Re3,Rb6,Rd3,Rxc6,Rxd4,Rxa6,Rd2+,Kf1,d4,h4,d3,Rd6,Ke7,Rd4,Ke6,c6,Rc2,Rxd3,Rxc6,Rd4,Ke5,Re4+,Kf5,Kg1,h6,Kh2,g5,Kh3', 'g4+,fxg4+,Kxe4', 'https://lichess.org/training/yUB7t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YUBK6', 'Rapid', 'Estanislao37', 1880, 'OnTheWater', 1852, 'e4,e5,Qf3,Nc6,c3,Nf6,Bc4,d5,exd5,Nxd5,Bxd5,Be6,Bxc6+,bxc6,Qxc6+,Bd7,Qe4,Bd6,Ne2,O-O,O-O,f5,Qd5+,Rf7,d4,Qe8,Bg5,Bc6,Qa5,f4,d5,Bd7,c4,h6,c5,Bf8,Bh4,g5,Bxg5,hxg5,f3,e4,Nbc3,e3,c6,Bf5,Nd4,Bd3,Rfe1,e2,Ne6,Rb8,b3', 'Bb4,Qxb4,Rxb4', 'https://lichess.org/training/YUBK6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yUbqG', 'Blitz', 'Sapin3sk', 2267, 'atlet123456', 2178, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bf4,Bf5,e3,Nc6,Nf3,e6,Bb5,a6,Ba4,b5,Bc2,Bxc2,Qxc2,Bd6,Nxd5,Bxf4,Qxc6+,Kf8,Nxf6,gxf6,exf4,Kg7,O-O,Rc8,Qxa6,Rg8,Qxb5,Kh8,Rac1,Rb8,Qe2,Qd5,Rc5,Qxa2,Rfc1,Rxb2,Qe3,Re2,Qd3,Rxf2,Rc8', 'Rxg2+,Kh1,Rxh2+,Nxh2,Qg2#', 'https://lichess.org/training/yUbqG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yubRh', 'Rapid', 'RASHYD', 1750, 'xadrezprogressista13', 1860, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,O-O,Nf3,Bxc3+,bxc3,c5,d5,d6,e4,e5,Bd3,Bg4,h3,Bh5,O-O,Nbd7,Be2,h6,Bxf6,Nxf6,Qd3,Nh7,Nd2,Bg6,Nf3,f5,exf5,Bxf5,Qd2,Qf6,Nh2,Qg6,Bg4,Ng5,Bxf5,Rxf5,Qd3,Raf8,g4,Nf3+,Nxf3,h5,Nh4,Qg5,Nxf5,hxg4,hxg4,Qxg4+,Ng3,Rf3,Qe2', 'Rxg3+,fxg3,Qxe2', 'https://lichess.org/training/yubRh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yUDGV', 'Classical', 'zemeat', 1662, 'halilercan38', 1625, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Bc5,Re1,d6,c3,O-O,Bxc6,bxc6,d4,exd4,cxd4,Bb4,Bd2,Bxd2,Qxd2,Re8,e5,dxe5,Rxe5,Rxe5,Nxe5,Bb7,Qc3,Qd5,Nd2,c5,Ndf3,cxd4,Qxd4,Qxd4,Nxd4,Rd8,Nb5', 'Rd5,Nxa7,Rxe5', 'https://lichess.org/training/yUDGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yuDLv', 'Blitz', 'will_n', 1521, 'Nadir69', 1524, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nxc6,bxc6,Bd3,g6,O-O,Bg7,Nc3,Nf6,Be3,h5,Qf3,Ng4,h3,Ne5,Qe2,Nxd3,Qxd3,Qc8,f3,a5,Bd4,Bxd4+,Qxd4,Rg8,e5,c5,Qd5,Be6,Qe4,dxe5,Qxe5,Rb8,Ne4,c4,b3,cxb3,cxb3,a4,Rac1,Qb7,Rc7,Qb6+,Kh1,axb3,Rb1,Qb5,Rxb3,Qf1+,Kh2,Rxb3,axb3,Kf8,Rxe7,Qb1,Qb8+,Kxe7', 'Qd6+,Ke8,Nf6#', 'https://lichess.org/training/yuDLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yuE7q', 'Rapid', 'rj16ultra', 1631, 'KingErickk', 1846, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Be3,Bb6,Nc3,O-O,O-O,d6,Bb3,Nd4,Bxd4,Bxd4,Nxd4,exd4,Nd5,Nxd5,Bxd5,c6,Bb3,Be6,Qf3,a5,c4,f5,Rae1,a4,Bd1,Qf6,b3,axb3,Bxb3,fxe4,Qxe4,Rae8,Qe2,Bxc4,Bxc4+,d5,Qc2,Rxe1,Rxe1,dxc4,Qxc4+,Kh8,Rf1,b5,Qb4,Ra8,a3,Ra4,Qb3,Qd6,Re1,h6,Qd1,Rxa3,Qf3,Qg6', 'Qf8+,Kh7,Qxa3', 'https://lichess.org/training/yuE7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yUEO7', 'Rapid', 'Ivanhoe123', 1972, 'mm1335', 1897, 'e4,e5,Nc3,Nc6,f4,d6,Nf3,Bg4,Bb5,a6,Bxc6+,bxc6,h3,Bxf3,Qxf3,Be7,O-O,Nf6,fxe5,dxe5,d3,O-O,Bg5,h6,Bh4,Rb8,b3', 'Qd4+,Kh1,Qxc3', 'https://lichess.org/training/yUEO7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yUevL', 'Classical', 'Max006', 1673, 'outofrange', 1770, 'b3,Nf6,Bb2,d5,d3,e5,Nf3,Nc6,d4,e4,Ne5,Nxe5,dxe5,Ng8,e3,Bc5,c4,c6,Be2,Ne7,O-O,O-O,Bd4,Bb6,c5,Bc7,b4,Ng6,Nd2,Nxe5,f4,exf3,Nxf3,Nxf3+,Rxf3,Qh4,h3,Be6,Qc2,f5,Raf1,f4,Bd3,h6,Bh7+,Kh8,Bxg7+,Kxg7,Qg6+,Kh8,Qxe6,Kxh7', 'Qd7+,Kg8,Qxc7', 'https://lichess.org/training/yUevL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yUGfy', 'Rapid', 'chuckbranson', 2044, 'FM Careless_Subroto', 2116, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,Nxe4,d5,Bc5,Be3,Bxe3,fxe3,Ne7,Nxe5,O-O,Bd3,Nf5,Bxe4', 'Qh4+,Kd2,Qxe4', 'https://lichess.org/training/yUGfy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yUh4E', 'Rapid', 'leo593', 1875, 'Ambitious', 2137, 'e4,c5,Nc3,e6,Nf3,a6,Be2,b5,a3,Bb7,d3,d5,exd5,exd5,O-O,Nf6,Bg5,Bd6,Re1,O-O,d4,b4,axb4,cxb4,Na4,Nbd7,Bd3,Qc7,Qd2,Rac8,Re2,h6,Bh4,Bf4,Qd1,Ne4,Bg3,Bxg3,hxg3,f5,Bxe4,dxe4,Ne1,f4,gxf4,Qxf4,Qd2,Qh4,Qxb4,Nf6,Qxb7,Ng4,Qb3+,Kh8,Qh3,Qg5,Nc3,Rce8,Rd1,e3,Nf3,Qf4,Kf1,Nxf2,Qh2', 'Qxh2,Nxh2,Nxd1+', 'https://lichess.org/training/yUh4E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yuH8q', 'Rapid', 'casihan', 1788, 'hithivfor6', 1809, 'd4,d5,c4,c6,Bf4,Nf6,Nc3,Bf5,Nf3,e6,a3,Be7,e3,O-O,Be2,Be4,O-O,Nbd7,Bd3,Bg6,Ne5,Nxe5,Bxe5,Bd6,f4,Bh5', 'Bxf6,Bxd1,Bxd8', 'https://lichess.org/training/yuH8q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yuIEr', 'Classical', 'Justin8008', 1708, 'Kneht', 1742, 'd4,e6,c4,b6,Nc3,a6,Nf3,Nc6,Bf4,Nf6,e3,Bb7,Bd3,Nb4,O-O,Bxf3,gxf3,Nh5,Bg3,Qg5,Be4,d5,cxd5,Nxd5,f4,Nxc3,bxc3,Qa5,Qxh5,Qxh5,Bc6+,Ke7,Bxa8,g5,fxg5,Qxg5,Kh1,h5,Rg1,Kd7,Be5,Qh6,Rg2,f6,Bf4,Qh7,Bf3,h4,Rag1,h3,Rg3,Qc2,Bd1,Qxa2,Bg4,Qxf2,Bxh3,Kc6,R3g2,Qf3,Bxe6,Bd6,c4,Bxf4', 'Bd5+,Qxd5,cxd5+,Kxd5,exf4', 'https://lichess.org/training/yuIEr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YUJ08', 'Rapid', 'ozdemironur', 1818, 'Mar001', 1857, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nd7,Bd3,Ngf6,Bxh7,Nxh7,Bf4,e6,Qe2,Nhf6,Nf5', 'Qa5+,Bd2,Qxf5', 'https://lichess.org/training/YUJ08');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yUJ8z', 'Blitz', 'Alexito92004', 1877, 'AliAbdulKareem', 2030, 'c4,c5,Nc3,Nc6,d3,d6,g3,Bd7,Bg2,Nf6,Nf3,g6,Bg5,Bg7,Qd2,O-O,Bh6,Qb6,Bxg7,Kxg7,O-O,Nd4,Nxd4,cxd4,Nd5,Nxd5,Bxd5,e6,Bg2,Bc6,f3,Rae8,Rab1,f5,b4,a5,b5,Bd7,a4,e5,Rfc1,f4,Qa2,g5,Qa3,Be6,c5,dxc5,Rxc5,Bf7,Rbc1,Re6,Rc7,h5,Rc8,Rxc8,Rxc8,Qd6,Qc1,Re7,Qc5,Qxc5,Rxc5,Bb3,gxf4,gxf4,Bh3,Bxa4,b6,Bd1,Rc7,Kf7,Kf2,a4,Bc8,Ke8,Bxb7,a3,Bd5', 'Rxc7,bxc7,Kd7,c8=Q+,Kxc8', 'https://lichess.org/training/yUJ8z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YujAF', 'Classical', 'ChessTerraria', 1648, 'Ariscle', 1664, 'e4,e5,c4,Nf6,Nc3,Bc5,Nf3,Ng4,d4,exd4,Nxd4,Qf6,h3,Nxf2,Qf3,Qxf3,Nxf3,Nxh1,Bf4,d6,Nb5,Bb6,O-O-O,Nf2,Re1,Nd3+,Bxd3,O-O,e5,Re8,exd6,Rxe1+,Nxe1,c6,Nc7,Bxc7,dxc7,Na6,Nf3,Nb4,Bb1,Kf8', 'Bd6+,Ke8,Bxb4', 'https://lichess.org/training/YujAF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yUKdC', 'Classical', 'marcoag123', 1641, 'feroz29', 1733, 'd4,d5,c4,g6,e3,Bg7,Nf3,Nf6,Nc3,e6,a3,O-O,b4,a6,Bb2,c6,Be2,Bd7,Rb1,b5,cxd5,exd5,Qc2,Re8,O-O,Bg4,Rfe1,Bxf3,Bxf3,Qd6,g3,Nbd7,Ne2,Nb6,Nf4,Nc4,Bg2,a5,Rbd1,axb4,axb4,Ra2,Rb1,Rea8,e4,dxe4,Bxe4,Nxe4,Rxe4,f5,Re6,Qxd4,Bxd4,Rxc2,Bxg7,Kxg7,Rxc6,Raa2,Rc7+,Kh6,Re1,Rxf2,Rc6,Nd2,Kxf2,Ne4+,Kf1,Rb2,Nd3,Rxh2,Re2', 'Nxg3+,Ke1,Rxe2+', 'https://lichess.org/training/yUKdC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yuMVY', 'Rapid', 'jan2500', 1642, 'idrpughsmurf', 1684, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,d6,c3,Nf6,d3,Be7,O-O,O-O,Re1,Na5,Bc2,c6,Bg5,d5,exd5,Bg4,dxc6,Nxc6,h3,Bxf3,Qxf3,Rc8,Nd2,h6,Bh4,Nh7,Bxe7,Qxe7,a4,Ng5,Qg4,b4,Nb1,bxc3,Nxc3,Rfe8,Qc4,Nb4,Qb3,Nxc2,Qxc2,Qe6,Qe2,Qg6,Rad1,Nxh3+,Kf1,Nf4,Qf3,Rcd8,g3,Nxd3,Re2,Nc5,Rxe5', 'Rxd1+,Nxd1,Rxe5', 'https://lichess.org/training/yuMVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YumxA', 'Rapid', 'Thepocketking', 1881, 'Darkjuanky', 1879, 'd4,d5,e3,Nc6,c4,dxc4,Bxc4,e6,Nf3,Nf6,a3,Be7,Nc3,b6,O-O,Bb7,Qd3,O-O,Re1,Na5,Ba2,c5,Bb1,cxd4,exd4,g6,Bg5,Rc8,Rd1,Nc4,Qe2,Nxb2', 'Qxb2,Bxf3,gxf3', 'https://lichess.org/training/YumxA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YUnst', 'Rapid', 'pkdhakar', 1785, 'zachwinter', 1760, 'd4,d5,e3,Bf5,Nf3,Bg6,Bd3,e6,O-O,Nf6,Nc3,c5,dxc5,Bxc5,Bb5+,Nc6,Ne5,Rc8,Na4,Bd6,Nxc6,bxc6,Bd3,Qc7,c4,Bxh2+,Kh1,Bd6,g3,Ng4,Qxg4,h5,Qd1,h4,g4,h3,Bxg6,fxg6,f3,Bh2,Rf2,Bg3,Rg2,h2,f4,Bh4,g5,Ke7,Rxh2,Bg3,Rxh8,Rxh8+,Kg2,Bh4,Qh1,dxc4,Bd2,Qd6,Bc3', 'Qd5+,Kg1,Bf2+,Kxf2,Rxh1,Rxh1,Qxh1', 'https://lichess.org/training/YUnst');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YupG5', 'Classical', 'TagTraeumer2514', 1949, 'sam6pei', 1880, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,d4,exd4,Nxd4,Bc5,Nb3,Qxd1+,Kxd1,Nxe4,Re1,Bxf2,Rxe4+,Kd8,Rf4,Bg1,Rxf7,Bg4+,Kd2,Bxh2,Rxg7,h5,Rf7,Ke8,Rf1,Rd8+,Kc3,Be5+,Kb4,a5+,Nxa5,Rd5,Nxb7,Rb5+,Kc4', 'Be2#', 'https://lichess.org/training/YupG5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yUPtk', 'Rapid', 'korkusuz', 1654, 'gardoim', 1626, 'Nf3,g6,d4,Bg7,e4,c6,c4,d6,Be2,Nd7,O-O,Nh6,Nc3,f5,exf5,Nxf5,Bg5,O-O,Re1,Bf6,Ne4,h6,Nxf6+,exf6,Bf4,g5,Bd2,g4,Bd3,Nb6,Bxh6,Nxh6,Nh4,f5,g3,Qf6,Qd2,Bd7,Re2,Rae8,Rxe8,Rxe8,c5,dxc5,dxc5,Nd5,Bc4,Be6,Re1,Kg7,b3,a5,a4,Nf7,Qxa5,Re7,Bxd5,Bxd5', 'Rxe7,Qxe7,Nxf5+,Kf6,Nxe7', 'https://lichess.org/training/yUPtk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yuPyW', 'Rapid', 'amolawadhiya', 1947, 'Quinmasterpe', 1841, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,d3,d6,Qf3,Nf6,h3,c6,a3,Be7,Ba2,O-O,O-O,Be6,Nd2,Nd7,Qe2,Bxa2,Rxa2,f5,exf5,Rxf5,Qe6+,Rf7,Nf3,h6,Nxd4,Qc7,Nf3,Nf6,Ra1,Re8,Qa2,d5,Be3,Bd6,c4,Nh5,cxd5,Rxf3,gxf3,c5,Qc4,Rxe3,fxe3,Bh2+,Kf2,Qg3+,Ke2,Qg2+,Rf2,Ng3+,Kd2,Qxf2+,Kc3,Ne2+,Kb3,Bd6,Qe4,a5,Qe6+,Kh8,Qxd6,a4+,Kxa4,Qh4+,e4,Nd4,Qxc5,b5+,Ka5', 'Nb3+,Kxb5,Nxc5', 'https://lichess.org/training/yuPyW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yuqne', 'Classical', 'Axiomaric', 1681, 'Alzarot1', 1605, 'd4,e6,Bf4,d5,e3,Nf6,c3,Nc6,Nf3,Bd6,Bg3,a6,Nbd2,Qe7,Bd3,Bxg3,hxg3,e5,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qd6,Ng5,Bg4,Be2,Bxe2,Qxe2,Qd7,Rd1,O-O-O,Rh4,h6,Nf3,Ne4', 'Rxe4,dxe4,Rxd7', 'https://lichess.org/training/Yuqne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YuR0f', 'Blitz', 'wertuar', 2137, 'FM VLABOR64B', 2134, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,c3,d3,e5,d5,Bxd3,Nd7,Bf4,Be7,Bc2,O-O,Qxd5,Ndxe5,Qe4,Nxf3+,gxf3,g6,Nd2,Bf5,Qa4,Bxc2,Qxc2,Re8,O-O-O,Qc8,Ne4,Qf5,Bh6,Qh5,Be3,Qxf3,h4,Qf5,Qa4,b5,Qc2,b4,Ng5,Qxc2+,Kxc2,bxc3,bxc3,Ne5,Bd4,Nc4,f4,Rab8,h5,Bxg5,fxg5,Rb2+,Kd3,Nd6,hxg6,fxg6,Rd2,Rb5,Rf2,Nf5,Rfh2,h5,gxh6,Kh7,Re2', 'Rxe2,Kxe2,Ng3+,Kd3,Nxh1', 'https://lichess.org/training/YuR0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YuRom', 'Blitz', 'FM grinpavl', 2100, 'sygermi', 1922, 'd4,g6,e4,Bg7,Nd2,b6,c3,Bb7,Bd3,e6,Ngf3,Ne7,Qe2,O-O,O-O,f5,Re1,fxe4,Nxe4,Nd5,Bg5,Qe8,Rad1,Nf4,Qe3,Nxd3,Rxd3,Qf7,Rd2,Qf5,Ng3,Qa5,b4,Qb5,Ne5,d6,Nd3,Nd7,Nb2,e5,a4,Qc6', 'd5,Qxd5,Rxd5', 'https://lichess.org/training/YuRom');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YurUC', 'Rapid', 'sharpsoldier', 1891, 'elsayyad', 1867, 'e4,d5,exd5,c6,dxc6,Nxc6,Nc3,e5,Bb5,Bb4,Nf3,Nf6,Bxc6+,bxc6,Nxe5,O-O,Nxc6', 'Qe8+,Ne2,Qxc6', 'https://lichess.org/training/YurUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yUukH', 'Classical', 'homa05', 1661, 'SamarthJaitly', 1734, 'd4,Nf6,Bf4,d5,e3,c5,Nf3,Nc6,Nc3,Qb6,Be2,Bg4,Nb5,Bxf3,gxf3,Rc8,Rb1,a6,Nc3,cxd4,exd4,Qxd4,Qxd4,Nxd4,Bd1,e6,h4,Bb4,Be3,Nf5,a3,Bxc3+,bxc3,Rxc3,Bd2,Rxa3,Rxb7,O-O,c3,Nd6,Rb4,Nc4,Bc2,a5,Rb1,Nxd2,Kxd2,Rc8,h5,Kf8,h6,g6,Rb3,Rxb3,Bxb3,Rb8,Ba4,Rb2+,Kd3,Rxf2,Rb1,Rxf3+,Kd2,Rf2+,Kd3,Ra2,Rb8+,Ke7,Rb7+,Kd6,Rb6+,Kc5', 'Rc6#', 'https://lichess.org/training/yUukH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yuupj', 'Rapid', 'Champ_Elf', 2289, 'chesster1985', 2149, 'e4,d5,exd5,Nf6,d4,Bg4,Be2,Bxe2,Nxe2,Qxd5,O-O,Nc6,Nbc3,Qh5,Qd3,O-O-O,Be3,e5,Ng3,Qh4,Qf5+,Kb8,dxe5,Ng4,h3', 'Nxe3,fxe3,Qxg3', 'https://lichess.org/training/Yuupj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YUX4B', 'Classical', 'Rasmusthiim', 1662, 'Micheleparley', 1710, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,a6,a3,Nf6,Re1,Bc5,b4,Bd4,c3,Ba7,Qb3,O-O,Qc2,Re8,Bb2,d5,exd5,Nxd5,d4,exd4', 'Rxe8+,Qxe8,Bxd5', 'https://lichess.org/training/YUX4B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yuxqd', 'Bullet', 'Kareem_Foundation', 1695, 'YoungFischer', 1699, 'd4,g6,e4,Bg7,Nd2,d6,Ngf3,e6,Nb3,Ne7,Bd3,Nd7,Be3,a6,O-O,b6,Qe2,Bb7,Rae1,h6,Nfd2,O-O,f4,f5,exf5,exf5,g4,fxg4,Qxg4,Nf6,Qg3,Kh7,Kf2,Qd7,Rg1,Nh5', 'Bxg6+,Nxg6,Qxg6+,Kh8,Qxh5', 'https://lichess.org/training/yuxqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YUxvE', 'Blitz', 'ClasicoFeliz', 1693, 'aligole123', 1833, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Bxc6,dxc6,O-O,Bd6,d4,Qe7,Nc3,O-O,Bg5,h6,Bh4,Bg4,dxe5,Bxe5,h3,Bh5,g4,Bg6,Nxe5,Qxe5,f4,Qc5+,Bf2,Qb4,e5,Rad8,Qf3,Nd5,Nxd5,Rxd5,f5,Rxe5,fxg6,fxg6,Qb3+,Qxb3,axb3,Re2,Bc5,Rxf1+,Rxf1,Rxc2,Rf8+,Kh7,Bd4,c5,Bc3,b5,Rf7,b4,Be5,Re2,Bxc7,g5,Kf1,Re3,Kg2,Kg6,Rf5,Rxb3,Rxc5,Rxb2+,Kh1,b3,Be5,Re2,Rc6+,Kf7,Rc7+,Ke6,Bxg7,b2,Bxb2,Rxb2,Rc6+,Ke5,Rxa6,Kf4,Rxh6', 'Kg3,Rc6,Rb1+,Rc1,Rxc1#', 'https://lichess.org/training/YUxvE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YUyH4', 'Classical', 'Panman89', 1740, 'smailmoh', 2004, 'e4,d5,exd5,Nf6,d3,c6,dxc6,Nxc6,h3,Bf5,Nf3,e5,Nc3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,e4,dxe4,Nxe4,Qxd8,Raxd8,Bd3,Rfe8,O-O,Bg6,Bb5,Nxc3,Bxc6', 'Ne2+,Kh2,bxc6', 'https://lichess.org/training/YUyH4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yuz6P', 'Blitz', 'Prima_tiger', 2056, 'venci_lovech', 2199, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,O-O,Rb1,c5,Be2,Qc7,O-O,Bg4,h3,Bxf3,Bxf3,cxd4,cxd4,Nc6,Be3,Rfd8,Rc1,Qa5,Qb3,Nxd4,Bxd4,Bxd4,Qxb7,e5,Rc7,Rab8,Qc6,Qxa2,h4,Rb2,h5,Rxf2,Kh2,Rxf1,h6,Rxf3,Rc8,Bg1+,Kxg1,Qd2', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/yuz6P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yv1oF', 'Rapid', 'ArtureRimbaud', 1798, 'HoDaDor', 1717, 'd4,d5,Nf3,c6,e3,Bf5,Nbd2,e6,a3,Nf6,b4,Bd6,Bb2,O-O,Bd3,Bxd3,cxd3,a5,bxa5,Rxa5,e4,Be7,e5,Nfd7,O-O,Na6,Nb3,Rb5,Bc3,Qb6,Nbd2,c5,dxc5,Naxc5,d4,Na4,Qxa4,f6,Rfb1,Rxb1+,Rxb1,Qc7,exf6,Bxf6,Bb4,Rc8,Qb3,Bg5,Nf1,Bf6,Qe3,e5,dxe5,Nxe5,Nxe5,Bxe5,Re1,Re8,Qc5,Qxc5,Bxc5,Bxh2+,Kxh2,Rxe1,Kg1,Rc1,Bb4,d4,g3,d3,Kg2,Rc2,Kf3,h5,Nd2,g5,Ke3,h4,gxh4,gxh4,Kxd3,Rc6,Nf3,h3,Ke2,Rg6,Nh2,Kf7,Kf3,Ke6,Ng4', 'Rxg4,Kxg4,h2,Kg3,h1=Q', 'https://lichess.org/training/yv1oF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yV1yv', 'Blitz', 'FM MrBini', 2337, 'NM gajardo', 2456, 'd4,g6,c4,Bg7,e3,d6,Nf3,c6,g3,Qc7,Bg2,Nd7,O-O,e5,b3,Ngf6,Bb2,O-O,Nc3,Re8,Rc1,a6,a3,b6,b4,Bb7,d5,c5,Nd2,Rf8,f4,Rae8,f5,e4,g4,Bh6,Qe2,Ne5,Ncxe4,Nxe4,Nxe4,g5,Nf6+,Kh8,Nxe8,Rxe8,f6,Bc8,h3,Bf8,Be4,h5,Bf5,Bh6,Bxc8,Qxc8,Rf5,Ng6,Rcf1,Nh4,R5f2,Re4,gxh5,Qxh3,Rh2,Qg3+,Kh1,Rxe3,Qf2,Qxf2,Rhxf2,Kh7,bxc5,bxc5,Bc1,Rc3,Rg1', 'Rh3+,Rh2,Rxh2+,Kxh2,Nf3+,Kh1,Nxg1,Kxg1,g4', 'https://lichess.org/training/yV1yv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yv27u', 'Rapid', 'sergetk', 1863, 'mpilalao', 1856, 'g3,d5,Bg2,e5,d3,Nf6,Nf3,Nc6,b3,Be7,Bb2,d4,c3,Bg4,h3,Bxf3,Bxf3,dxc3,Bxc3,Nd4,Bg2,c6,O-O,Nd5,e3,Nxc3,Nxc3,Nf5,a3,Bc5,Re1,O-O,b4,Bb6,Na4,Bc7,Nc5,b6,Bxc6,bxc5,Bxa8,Qxa8,bxc5,Rd8,e4,Nd4,Rb1,Ba5,Rf1,Qc6,f4,Qxc5,fxe5,Nc2+,Rf2,Ne3,Qf3,Qxe5,Qxf7+,Kh8,Qf3,Bb6,Kh2,Bc5,Rfb2,h6,Rb5,Qd4,Rc1,Bb6,Qe2,Qxd3,Qxd3,Rxd3,e5,Rd2+,Kh1,Nf5,Rb3,Be3,Rxe3,Nxe3,Re1,Nc4,e6,Rd8,a4,a5,Kg2,Re8,Kf3,Nb6,Re4,g5,Kg4,Kg7,Kf5,Nd5,Ke5,Nc7,Kd6,Na6,e7,Kf7,Re5,Nb8,Rf5+,Kg6', 'Rf8,Rxe7,Kxe7', 'https://lichess.org/training/Yv27u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yv2vt', 'Blitz', 'RSV-42', 1951, 'venuslippe', 1801, 'e4,e5,Nf3,Nc6,h3,Nf6,d3,Bc5,c3,d5,exd5,Nxd5,b4,Bb6,b5,Nce7,Nxe5,O-O,Be2,Re8,O-O,Ng6,Nxg6,hxg6,c4,Qf6,Qb3,Bd4,cxd5,Bxa1,Bf3,Bd4,Nd2,Bf5,Ne4,Qb6,a4,a6,Qc4,axb5,axb5,Ra5,d6,cxd6,Bf4,Bxe4,Bxe4,Rxb5,Bxd6,Rb2,Bg3,Qc5,Qa4,b5,Qa6,b4,Qb7,b3,Bd5,Ree2,Qxf7+,Kh7,Bxb3,Rxb3,Qxb3,Rd2,Qc4,Qxc4,dxc4,Rc2,Rd1,Bf6,Bf4,Rxc4,Be3,Rc6,Kh2,Re6,g3,Re7,Kg2,Rf7,Rd6,g5,Rd5,Kg6,Rd6,Kh7,h4,gxh4,g4,Re7,g5,Be5', 'g6+,Kh8,Rd8+,Re8,Rxe8#', 'https://lichess.org/training/yv2vt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yv73n', 'Rapid', 'moamed37', 1740, 'Koshkin', 1693, 'e4,c5,Nf3,Nc6,Bb5,g6,c3,Bg7,Bxc6,bxc6,d4,cxd4,cxd4,d6,O-O,Bg4,Qd3,Bxf3,Qxf3,Bxd4,e5,Rc8,Na3,Bxe5,Nc2,Qb6,Rb1,Nf6,Be3,Qc7,Bh6,d5,g3,Rb8,b3,Qa5,a4,Ne4,Qe2,f6,f3,Nc3,Qd2,Nxb1,Qxa5,Rxb3,Qxa7,Kf7,a5,g5,Re1,Nd2,Bxg5,Nxf3+,Kg2,Nxe1+,Nxe1,fxg5,Nf3,Bf6,Qc7,g4,Ng1,Rb2+,Kf1,Rhb8,Qxc6,d4,a6,d3,Qd5+,Kg7,a7,R8b5,Qxb5', 'Rxb5,a8=Q,Rb1+', 'https://lichess.org/training/yv73n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YV8aa', 'Blitz', 'Whitesides2', 1832, 'LightStalker', 1842, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Qf6,d3,h6,Nc3,Nge7,Nd5,Nxd5,exd5,Nd4,Nxd4,Bxd4,c3,Bb6,Be3,Bxe3,fxe3,Qb6,c4,Qxe3+,Kh1,O-O,Re1,Qd4,Qe2,d6,b4,Bf5,Rad1,Bg4,Qd2,Bxd1,Qxd1,a6,Bd7,Qb2,Bf5,Qxb4,Rf1,b5,Qg4,bxc4,dxc4,Qd2,Be4,Qg5,Qd7,Qd8,Qf5,g6,Qh3,Kg7,Qf3,Rb8,h3,Rb2,a4,a5,Qc3,Rb4,Qe3,Qg5,Qf3,Rfb8', 'Qxf7+,Kh8,Bxg6,Qxg6,Qxg6', 'https://lichess.org/training/YV8aa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YV8qb', 'Rapid', 'manjiparty', 1668, 'PM1', 1756, 'c4,e5,g3,d5,cxd5,Qxd5,Nf3,e4,Nh4,e3,Bg2,exd2+,Nxd2,Qa5,O-O,Be6,Bxb7,Bd5,Bxd5,Qxd5,Nhf3,Bd6,Qa4+,Nc6,Nc4,Ne7,Nxd6+,Qxd6,Bf4,Qf6,Ne5,O-O,Nxc6,Nxc6,b3,Nd4,e3,Ne2+,Kh1,Nxf4,exf4,Rfe8,Qd7,c5,Rfe1,Red8,Qh3,h6,Red1,Re8,Qg2,Rad8,Rxd8', 'Qxa1+,Qg1,Qxg1+,Kxg1,Rxd8', 'https://lichess.org/training/YV8qb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YV96S', 'Rapid', 'KingSmegma', 2106, 'EtatSoeur', 2115, 'd4,Nf6,Bg5,g6,Bxf6,exf6,e3,c5,dxc5,Bxc5,Qd5,Qb6,Qe4+,Qe6,Nd2,d5,Bb5+,Nc6,Qd3,O-O,c3,Ne5,Qe2,Qb6,Nb3,Bg4,Nf3,a6,Nxc5,Qxc5,Ba4,b5,Bb3,Rfe8,h3,Bxf3,gxf3,Nc4,Rd1', 'Nxe3,fxe3,Rxe3', 'https://lichess.org/training/YV96S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yV9wm', 'Rapid', 'dalton12321', 1637, 'ecus7', 1624, 'd4,d5,c4,c6,Nc3,Bg4,c5,Nd7,Bf4,g6,Qc2,Bg7,e3,e5,Bxe5,Nxe5,dxe5,Bxe5,Be2,Bf5,Bd3,Bxd3,Qxd3,Qf6,Nf3,Bxc3+,bxc3,Nh6,O-O,O-O,c4,Rfd8,cxd5,Rxd5,Qb3,Rad8,Qxb7', 'Qxa1,Rxa1,Rd1+,Ne1,Rxa1', 'https://lichess.org/training/yV9wm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yVBLP', 'Blitz', 'Yussefdabian', 1873, 'santimoA', 1870, 'e4,e5,Nf3,d6,Bc4,Bg4,O-O,a6,Nc3,b5,Nxe5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/yVBLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yvcQS', 'Rapid', 'don_fusili', 1748, 'aleksei_2018', 1772, 'e4,c6,c4,d5,cxd5,cxd5,Bb5+,Nc6,e5,e6,Nc3,a6,Bxc6+,bxc6,Qa4,Bd7,Nce2,Ne7,Nf3,g6,d4,Bg7,Bg5,O-O,Qd1,f6,exf6,Bxf6,Bxf6,Rxf6,Ne5,Rb8,O-O,Rxb2,f4,Nf5,Qd3,Qc8,g4,Nd6,g5,Rf5,Ng3,Rf8,Nxd7,Qxd7,Qxa6,Rfb8,Qd3,Nf5,Nxf5,exf5,Rf2,Rxf2,Kxf2,Rb2+,Kg3,Qa7,a3,Qa4,Re1', 'Rb3,Qxb3,Qxb3+', 'https://lichess.org/training/yvcQS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yvDAN', 'Classical', 'marwancc5', 1852, 'begbula', 1700, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nge2,O-O,O-O,c6,d4,exd4,Nxd4,d5,exd5,cxd5,Bb3,Nc6,Nce2,Na5,Ba4,Bg4,Re1,Qb6,c3,Nh5,Be3,Nc4,b4,Nxe3,fxe3,Bxd4,Qxd4,Qg6,Qxd5,Rad8,Qxb7,Rd2,Nf4,Nxf4,exf4,Bh3,g3,Qh5,Bd1,Bg4,Bxg4', 'Qxh2+,Kf1,Rf2#', 'https://lichess.org/training/yvDAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yvDWz', 'Blitz', 'Slava1974', 1748, 'Zahronsky', 1537, 'e4,d6,b3,Nf6,Bb2,Nxe4,Nf3,f6,h4,Bg4,d3,Nc5,Nbd2,Nc6,Qe2,e5,O-O-O,d5,g3,d4,Bg2,Qd7,Ba3,Nxb3+,axb3,Bxa3+,Kb1,O-O-O,Nc4,Bb4,Ka2,Bc3,Ra1,Nb4+,Kb1,Bxa1,Kxa1,Qb5,Kb2,b6,Ra1,a5,Qe4,Bd7', 'Qa8#', 'https://lichess.org/training/yvDWz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YvGkx', 'Classical', 'h157', 1657, 'GUSILO007', 1666, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,exd4,Qxd4,Bd7,O-O,Ne7,Bh6,Rg8,Bg5,f6,Bh4,Ng6,Bg3,h5,h4,Bg4,Qxd8+,Rxd8,Bxc7,Rd7,Bb6,Bxf3,gxf3,Nxh4,f4,Bd6,f5,Nf3+,Kh1,g5,Nc3,g4,Kg2,h4,Rh1,h3+,Kf1,h2,Kg2,Be5,Ne2,Rd2,Nc3,Nh4+,Kf1,g3,Ke1,Rxf2,Bxf2,g2,Rxh2,g1=Q+,Bxg1,Rxg1+,Ke2', 'Bxh2,Rxg1,Bxg1', 'https://lichess.org/training/YvGkx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YVgyr', 'Rapid', 'Alexey_Mironov', 1849, 'Great_Egypt', 1828, 'e4,e6,e5,d5,d4,Nc6,Bb5,a6,Ba4,b5,Bb3,Na5,Qf3,Nxb3,axb3,Ne7,Bg5,h6,Bh4,Qd7,Nc3,Ng6,g3,Nxh4,gxh4,Be7,h5,Bg5,Rc1,Bxc1,Nge2,Bxb2,Rg1,O-O,Qe3,Kh8,Nf4,Bxc3+,Qxc3,c6,Qf3,Qe7,Ke2,Qh4,Ng6+,fxg6', 'Qxf8+,Kh7,hxg6#', 'https://lichess.org/training/YVgyr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yvhv7', 'Rapid', 'Yuriyudm', 2097, 'cresporod', 2021, 'e4,e5,d4,exd4,c3,dxc3,Bc4,h6,Nxc3,Bb4,Nf3,Bxc3+,bxc3,d6,e5,Ne7,O-O,d5,Bb3,O-O,Nd4,c5,Nb5,Qa5,c4,d4,Nd6,Nbc6,Qh5,Qc3,Bf4,Ng6,Bg3,d3,Rac1,Qd4,Nb5,Qe4,Nc7,Rb8,e6,d2,Rcd1,Nf4,exf7+,Rxf7,Bxf4,Qxf4,Nd5,Bg4', 'Nxf4,Bxh5,Nxh5', 'https://lichess.org/training/yvhv7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yvl1M', 'Classical', 'WSmirnov', 2132, 'erenaktemur9', 2051, 'd4,Nf6,c4,e6,a3,d5,Nc3,dxc4,e4,Nc6,Nf3,Be7,Bxc4,e5,dxe5,Qxd1+,Kxd1,Ng4,Be3,O-O,Kc2,Be6,Bxe6,fxe6,Nb5,Nxe3+,fxe3,Bd8,Rad1,a6,Nbd4,Na5,Nxe6,Re8,Nxd8,Raxd8,Rxd8,Rxd8,Rd1,Rxd1,Kxd1,Nc4,Kc1,Nxe3,g3,Nf1,Kc2,Ne3+,Kd3,Ng4,Kd4,Kf7,Kd5,Ke7,Kd4,a5,b3,h6,h3,Nf2,h4,Ng4,Nd2,Ke6,Nc4,b6,b4,axb4,axb4,Nxe5,Nxe5', 'c5+,Kc3,Kxe5,bxc5,bxc5', 'https://lichess.org/training/yvl1M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yvlt0', 'Rapid', 'alidavid76', 1685, 'Super_Fireboy', 1757, 'e4,Nc6,Bb5,Nf6,Bxc6,bxc6,Nc3,d5,Qf3,dxe4,Nxe4,Bb7,d3,c5', 'Nxf6+,exf6,Qxb7', 'https://lichess.org/training/yvlt0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YvM8H', 'Classical', 'jokubasssk', 1894, 'SaiBen', 1913, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,e6,d4,cxd4,Nxd4,a6,Bg5,Be7,O-O,Qc7,Bb3,b5,Re1,Bb7,Qd3,Nbd7,a4,b4,Na2,Nc5,Qc4,Nfxe4,Bxe7,Qxe7,Nxb4,d5,Qe2,Nxb3,Nbc6,Nxd4,Nxd4,O-O,f3,Qc5,c3,Nd6,Kh1,Rfe8,Qe5,Nc4,Qg3,Nxb2,Ne2,Nd3,Rf1,Rab8,Rad1,Qe3,Nd4,Ba8,Nc2,Qe2,Nd4,Qe3,Nc2,Qe2,Nd4,Qb2,Rxd3,e5,Nf5,g6,Nd6,Re6,Nxf7,Kxf7,Re3,Rbe8,Qg5,Kg7,Rfe1,h6,Qg4,d4,cxd4,exd4', 'Rxe6,Rxe6,Qxe6', 'https://lichess.org/training/YvM8H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YvNQq', 'Rapid', 'shivanggupta', 2052, 'RJzeDD', 2074, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,O-O,Be7,a4,O-O,Bg5,b6,Bf3,Bb7,Re1,Nbd7,h3,Rc8,Rc1,Nc5,Qe2,h6,Be3,Ncxe4,Nxe4,Bxe4,Bxe4,Nxe4,Bxh6,Nxf2,Bd2,Nxh3+,gxh3,d5,Qg4,Rc4,b3', 'Rxd4,Qxd4,Bc5,Qxc5,bxc5', 'https://lichess.org/training/YvNQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yVo3M', 'Rapid', 'flochess999', 1658, 'pljevlja2016', 1605, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,f6,Nf3,d6,O-O,b6,Nc3,c6,Re1,Nd7,Be6,Ne5,Bxc8,Qxc8,Nxe5,dxe5,Qd3,Qc7,Rad1,Rd8,Qa6,Rxd1,Rxd1,Ne7,Ba3,Kf7,Qc4+,Ke8,Bd6,Qb7,Qb4,c5,Qb5+,Qc6,Qa6,Nc8,Bb8,Bd6,Bxa7,Nxa7,Qxa7,Rg8,Nd5,Kf8,Nxb6,Bc7,Nd7+,Ke7,Nxc5,Ra8,Rd7+', 'Qxd7,Nxd7,Rxa7', 'https://lichess.org/training/yVo3M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YvP5d', 'Blitz', 'Mr_ijaz', 1620, 'AlekseyPesterev', 1684, 'e4,e5,Bc4,Nc6,d3,h6,Ne2,Bc5,Nbc3,Qf6,O-O,d6,Be3,Bg4,Bxc5,dxc5,Nd5,Qd6,f3,Bh5,Ng3,Bg6,f4,f6,f5,Bf7,Bb5,O-O-O,c4,g5,Qa4,Bg6,fxg6,h5,Bxc6,bxc6,Qa6+,Kd7,Nf5,Qe6,Nde3,g4,g7,Rh7,Qxa7,Nh6,Qb7,h4,Nxh4,g3,Nhf5,gxh2+,Kf2,Nxf5,Nxf5,Qf7,Rh1,Qh5,Ng3,Qg5,Nf5,Qd2+,Kg3,Qxd3+,Kf2,Qc2+,Ke3,Qxg2,Rad1+,Ke6,Qxc6+,Kf7,Qxc7+,Kg6,Qxd8', 'Rh3+,Ng3,Rxg3#', 'https://lichess.org/training/YvP5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yvPmE', 'Rapid', 'oldpolo33', 1608, 'BHAVIN007', 1621, 'a4,e5,b3,d5,e3,Nf6,Bb2,Nc6,Nf3,Qe7,Bb5,g6,Ba3,Qe6,Bxf8,Kxf8,d4,exd4,Nxd4,Qe5,Bxc6,bxc6,O-O,Ng4,g3,Qh5,h4,Qe5,c3,Bd7,Qf3,Nf6,b4,Rg8,Qf4,Qe4,Qxc7', 'Bh3,f3,Qxe3+', 'https://lichess.org/training/yvPmE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yVpr4', 'Rapid', 'xvii1725', 1626, 'Veronika26rus', 1619, 'e4,e5,Nf3,d6,h3,Nc6,c3,Nf6,Qc2,a6,d4,exd4,cxd4,Be7,Bg5,O-O,d5,Ne5,Nxe5,dxe5,Bd3,h6,Bh4,b6,O-O,Nd7,Bxe7,Qxe7,Nd2,Nc5,Nf3,f6,a3,Qf7,b4,Nd7,Qxc7,a5,Bc4,Kh8,bxa5,Rxa5,a4', 'Rc5,Qd6,Rxc4', 'https://lichess.org/training/yVpr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YvpWb', 'Blitz', 'Bbbbbbb7', 1905, 'Mhdhussamhayareyah81', 2059, 'c4,e5,Nc3,Bb4,g3,Nf6,Bg2,O-O,Nf3,Nc6,O-O,d6,a3,Ba5,b4,Bb6,Bb2,a5,b5,Ne7,d3,h6,Nd2,Rb8,a4,Bc5,Nde4,Nxe4,Nxe4,Bb4,Bc3,Bxc3,Nxc3,f5,Nd5,Be6,Nxe7+,Qxe7,Qd2,b6,Bc6,f4,Rac1,Qg5,Kh1,Bh3,Rg1,Qh5,Bd5+,Kh8,Bf3,Qe8,Bc6,Qe7,f3,fxg3,Rxg3,Be6,Rcg1,Rf7,Be4,Rg8', 'Qxh6+,gxh6,Rxg8#', 'https://lichess.org/training/YvpWb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YvQ08', 'Blitz', 'Murad76', 1764, 'teking', 1601, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,e6,Bc4,Ne7,Bb3,O-O,Be3,Nbc6,Qd2,a6,O-O,b5,Rfd1,Bb7,f3,Qc7,Bf4,Bxd4+,Kh1,Qb6,Bd6,Bxc3,bxc3,Rfe8,a4,Ne5,Bxe5,Rac8,a5,Qc6,Bd4,Qc7,Qe3,d5,Qh6,e5,Bf2,Qxc3,Bh4,Qc6,exd5,Qd6,Bxe7,Rxe7,Rd3,Rc5,Rad1,Rd7,f4,exf4,Rh3,f5,Re1,Re7,Re6,Rxe6', 'Qxh7+,Kf8,Qh8+,Ke7,Rh7#', 'https://lichess.org/training/YvQ08');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YVRRI', 'Classical', 'daphnis', 1828, 'Ha-Gotcha', 1956, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,f4,e6,Nf3,d5,e5,Ne8,h4,b6,h5,c5,h6,Bh8,Be3,cxd4,Nxd4,Ba6,cxd5,Bxf1,Rxf1,exd5,Qf3,Nc7,O-O-O,Qd7,Kb1,Nc6,Ndb5,Nxb5,Nxb5,Rac8,Nd6,Rc7,Qxd5,Qe6,Qd2,Rd8,Rc1,f6,Bd4,fxe5,f5,Qxd6,fxg6,Qxg6+,Ka1,exd4,Qf4,Rcc8,Rf3,Rf8,Rxc6,Rxf4,Rxc8+,Kf7,Rxf4+,Ke6', 'Rc6+,Ke7,Rxg6', 'https://lichess.org/training/YVRRI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yVrx2', 'Rapid', 'wladimirovich', 1857, 'libero2017', 2127, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Nd7,O-O,Qb6,c4,dxc4,Qxc4,Ne7,Nc3,Nd5,Ne4,Be7,Bg5,Bxg5,Nd6+,Ke7,Nxg5,Raf8,a4,f6,Nge4,fxe5,a5,Qxd4,Qxd4,exd4,Rac1,Rb8,Rc4,d3,Rd4,N7f6,Nc4,Nxe4,Rxe4,Nf6,Rd4,Rhd8,Rxd8,Rxd8,Rd1,Rd5,f3,h5,Kf2,Rd4,b3,Nd5,Ne3,Nc3,Rd2,b6,Nc4,b5,Ne5,Kd6,Nxd3,c5,Ke3,Nd5+,Ke2,Ke7,Nxc5,Nc3+,Ke3,Rxd2,Kxd2,Nd5,Kd3,Nc7,Kd4,a6,b4,g6,Ke5,g5,Ne4,g4,fxg4,hxg4,Nf2,Nd5,Nxg4,Nxb4,h4,Nc6+,Kf4,b4,Ne3,Nxa5,g4,b3,Nd1,Nc4,h5,b2,Nxb2,Nxb2,h6,Kf7,g5,a5,h7,Kg7,g6,a4,Ke5,a3,Kxe6,a2', 'h8=Q+,Kxh8,Kf7,a1=Q,g7+,Kh7,g8=Q+,Kh6,Qg6#', 'https://lichess.org/training/yVrx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YvsFx', 'Blitz', 'Raphdel1008', 1891, 'SUPER2019', 1901, 'd4,Nf6,c4,e6,Nc3,d5,Bf4,dxc4,e3,Bd6,Bxd6,Qxd6,Bxc4,O-O,Nf3,Nc6,O-O,a5,Nb5,Qd8,Rc1,Bd7,Nc3,Rc8,e4,Nb4,e5,Nfd5,Nxd5,Nxd5,Qd3,c6,Bb3,b5,Bc2,g6,h3,Nb4,Qb3,Nxc2,Qxc2,a4,Nh2,Qh4,Qe2,Qxd4,Ng4,h5,Nf6+,Kg7,Rfd1,Qf4,Nxd7,Rfd8,Nf6,Rxd1+,Rxd1,c5,Qxh5,Rh8,Qe2,c4,Qe4,Qxe4,Nxe4,Rh5,Nd6,Rxe5,f4,Rc5,Ne4,Rc8,Rd7,Kf8,Nd6,Rb8,Rxf7+,Kg8,Rc7,a3,bxa3,b4,axb4,Rxb4,Rxc4,Rb2,a4,Ra2,Nb7,Kf7,Nc5,Kf6,Re4,Kf5,Rxe6,Kxf4,Rxg6,Kf5,Ra6,Kf4,a5,Kg3,Ne4+,Kf4,Nf2,Kg3,Nd1,Rxg2+,Kf1,Rd2,Rg6+,Kxh3,Ne3,Ra2,Ra6,Kg3,Nc4,Kf3,Rb6', 'Ra1+,Rb1,Rxb1#', 'https://lichess.org/training/YvsFx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yVTuQ', 'Blitz', 'Lendvisory', 1610, 'Gus-Mac', 1608, 'e4,e5,Nf3,Nc6,Bc4,Nd4,d3,Nxf3+,Qxf3,Nf6,Bg5,Be7,Nc3,d6,Nd5,c6,Nxf6+,Bxf6,Bxf6,gxf6,O-O-O,Be6,Bxe6,fxe6,Qh3,Qe7,Rde1,O-O-O,Re3,d5,exd5,cxd5,Rg3,Rd7,Qh6,Rc7,Re1,Qc5,Qd2,Rd8,Rh3,e4,dxe4,dxe4,Qe2,Qd5,Qxe4', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/yVTuQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yVUF4', 'Rapid', 'acetaminophen', 2018, 'Mezzo-piano', 2027, 'e4,c5,Nf3,d6,Bb5+,Bd7,a4,Nc6,O-O,Nf6,d4,Nxe4,Re1,Nf6,dxc5,dxc5,Nc3,e6,Bg5,Be7,Qe2,O-O,Rad1,Qe8,Ne4,Nxe4,Bxe7,Qxe7,Qxe4,Rfd8,Bd3,g6,Qf4,Nb4,Be4,Bc6,c3,Bxe4,Rxd8+,Rxd8,Qxe4,Nd3,Re3,Nxb2,h4,Rd5', 'Qxd5,exd5,Rxe7', 'https://lichess.org/training/yVUF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YvvDF', 'Rapid', 'Checkmatealot', 2470, 'FREDERICKtheMATE', 2416, 'd4,d5,Nf3,Nf6,g3,e6,Bg2,b5,O-O,Bb7,a4,b4,c4,bxc3,Nxc3,Nbd7,Bf4,Nh5,Bd2,Be7,a5,Ba6,Re1,Nhf6,Bf4,Nh5,Be5,f6,e4,fxe5,Nxe5,Nxe5,Qxh5+,Ng6,exd5,O-O,Rxe6,Bc8,Rxe7,Qxe7,d6,Qf7,Bxa8,Qxf2+,Kh1,Qxb2,Rb1,Qxc3,Bd5+,Kh8,Be4,cxd6,Bxg6,h6,Be4,Qc4,Qg6', 'Rf1+,Kg2,Qe2#', 'https://lichess.org/training/YvvDF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YVvxp', 'Rapid', 'giancat2010', 1615, 'rayitochess', 1630, 'e4,d5,e5,c5,c3,d4,cxd4,Qxd4,Nf3,Qe4+,Be2,Bg4,O-O,e6,d3,Qc6,Be3,Be7,Nc3,b6,d4,Nd7,h3,Bf5,dxc5,O-O-O,Bb5,Qc7,cxb6,Nxb6,Bxb6,Qxb6,Rc1,Rxd1,Rfxd1,Kb8,Nd4,Nh6', 'Nc6+,Ka8,Nxe7', 'https://lichess.org/training/YVvxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YvVyF', 'Rapid', 'jzoef', 2034, 'FinalDefence', 1839, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,e6,g3,Bd6,Bg2,Nbd7,O-O,O-O,Nd2,Qe8,e4,dxe4,Ndxe4,Bc7,b3,h6,Ba3,c5,Nxc5,Bd6,Nxd7,Qxd7,c5,Be7,c6,Qc7,Bxe7,Qxe7,d5,exd5,Nxd5,Nxd5,Bxd5,Rd8,Qf3,bxc6,Rfe1,Qc7,Rac1,Rb8,Rxc6,Qd7,Rd1,Qe8,Qxf7+,Kh8,Qf4,Bb7,Rxh6+,gxh6', 'Qxh6#', 'https://lichess.org/training/YvVyF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yvw2p', 'Rapid', 'SophisticatedTarzan', 1941, 'qiu213', 1882, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,c3,Bc5,d4,Bb6,Bd3,c5,Bg5,h6,Bxf6,Qxf6,e5,Qg5,O-O,cxd4,f4,dxc3+,Kh1,cxb2,fxg5,bxa1=Q,g6,fxg6,Bxg6+,Ke7,Qd5,Be6,Rf7+,Bxf7,Qxf7+,Kd8,e6,Qd4,e7+,Kc8,e8=Q+,Rxe8', 'Qxe8+,Qd8,Bf5+,Kb8,Qxd8#', 'https://lichess.org/training/Yvw2p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yVyhP', 'Rapid', 'JAI0517', 1796, 'ZacheryWagner', 1789, 'e4,c5,Nf3,d6,Bc4,e6,d3,d5,exd5,exd5,Bb3,Nf6,Nc3,Be7,O-O,O-O,d4,c4,Ba4,a6,b3,b5,bxc4,bxa4,Bf4,dxc4,Qe2,Be6,Rae1,Re8,d5,Bxd5,Nxd5,Qxd5,Rd1,Qe4,Rfe1,Qxf4,Qxe7,Rxe7', 'Rd8+,Ne8,Rxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/yVyhP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yw3HZ', 'Rapid', 'ABDELKODOUS', 2007, 'ErolErdem23', 2056, 'c4,c5,g3,g6,Bg2,Bg7,Nc3,Nf6,Nf3,a6,O-O,e6,a3,Nc6,Rb1,O-O,d4,cxd4,Nxd4,Nxd4,Qxd4,Qa5,b4,Qc7,Bf4,Qd8,Qd6,Ne8,Qd2,Nf6,Bg5,Qc7,c5,Re8,Rfd1,Ng4,Ne4,h6,Nd6,Rf8,Be7,h5,h3,Ne5,f4,Nc6,Bxf8,Bxf8,Nxc8,Rxc8,Qxd7,Qb8,Bxc6,bxc6,e4,Rc7,Qd8,Qb7,Qe8,Re7,Qd8,Kg7,e5,Qb5,Kf2,Qc4,Qd3,Qa2+,Kg1,Ra7,Rbc1,a5,Rc2,Qd5,Qe2,Qb3,Rd3,Qb1+,Kg2,axb4,Rb2,Qa1,axb4,Qc1,Rd8', 'Ra1,Rd1,Qxd1,Qxd1,Rxd1', 'https://lichess.org/training/Yw3HZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YW5Vx', 'Blitz', 'Valeriy_Paramzin', 1860, 'fouroyal', 1867, 'd4,g6,e4,Bg7,e5,d6,f4,dxe5,fxe5,Bf5,Nf3,c6,Bc4,Nd7,O-O,Nb6,Bb3,Qd7,Ng5,Nh6,c3,O-O,Nd2,Nd5,Ndf3,a5,a4,Be6,Bc2,f6,Ne4,Ng4,Nc5,Qc8,Qe1,Bf5,Bb3,b6,Ne4,e6,exf6,Ngxf6,Nd6,Qc7,Nxf5,exf5,Ne5,Rae8,Bg5,Ne4,Bh4,Bxe5,dxe5,Qxe5,Rd1,Nc5,Ba2,Kg7,Qxe5+,Rxe5,Bg3,Re2,Rfe1,Rxb2,Bxd5,cxd5,Rxd5,Ra2,Re7+,Kh6,Bf4+,g5,Rd6+,Kh5,Rxh7+,Kg4,Bd2,Ne4', 'h3+,Kg3,Rd3#', 'https://lichess.org/training/YW5Vx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yW6ox', 'Blitz', 'Cocoybetchay2017', 1702, 'PLATJA', 1712, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,d6,Be2,Bd7,Be3,Nc6,O-O,a6,Bf3,Nf6,Re1,O-O,Rc1,Qa5,Nb3,Qc7,h3,Ne5,Be2,Rac8,f4,Nc6,a3,b5,Bf3,Na5,Nd5,Nxd5,exd5,Bxb2,Rb1,Bxa3,Nxa5,Qxa5,Ra1,b4,Be2,Bb5,Bxb5,Qxb5,Bd4,Qc4,c3,a5,cxb4,Bxb4,Be3,Bxe1,Qxe1,Qxd5,Rd1,Qa8,Bd4,Rc4,Qxe7,Qd5,Qf6,Rxd4,Rxd4,Qc5,Kh2,Ra8,Rxd6,a4,f5,a3,fxg6,hxg6,Rb6,Qf5,Qc6,Qe5+,Kg1,a2', 'Qxa8+,Kg7,Qxa2,Qc5+,Qf2', 'https://lichess.org/training/yW6ox');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yw7AU', 'Rapid', 'Peppovic84', 1853, 'makalo', 1719, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Be3,c5,Nb5,a6,Nd6+,Bxd6,exd6,cxd4,Bxd4,Nf6,Qf3,Nc6,Bxf6,Qxf6,Qxf6,gxf6,O-O-O,b5,a3,Kd7,Nf3,Kxd6,c4,bxc4,Bxc4,Ke7,Be2,Ne5,Kd2,Nxf3+,gxf3,Bd7,f4,Ra7,Rhg1,h6,Rg7,Ba4,Rdg1,a5,b4,axb4,axb4,Bb3,b5,Ra2+,Ke3,d4+,Kf3,Bd5+,Kg3,Rxe2,Rc1,d3,Rc7+,Kd6,Rgxf7,Be4', 'Rfd7#', 'https://lichess.org/training/yw7AU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yw9Ly', 'Blitz', 'Tx4', 1887, 'NegroHenry', 1912, 'd4,Nf6,Bg5,e6,e4,Be7,Bxf6,Bxf6,Nf3,d6,Bd3,O-O,Nbd2,b6,O-O,Ba6,Bxa6,Nxa6,c3,c5,e5,dxe5,dxe5,Bg5,Nc4,Qe7,Nxg5,Qxg5,f4,Qh4,Nd6,Rad8,Qf3,Nc7,c4,Ne8,Rfd1,Nxd6,Rxd6,Rxd6,exd6,Rd8,Rd1,Rd7,Qc6,Qd8,g4,g6,Kg2,Kg7,Kg3,h5,h3,h4+,Kf3,f6,f5,exf5,gxf5,g5,Kg4,Rf7,d7,Rf8,Qe6,Rf7,Rd6,Qa8,d8=Q', 'Qg2+,Kh5,Qf3#', 'https://lichess.org/training/yw9Ly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ywbcE', 'Blitz', 'german11', 1520, 'Granadillostrong', 1899, 'e4,b6,Nf3,Bb7,e5,g6,d4,Bg7,Bd3,e6,Bg5,Ne7,Qd2,O-O,Bh6,d6,Bxg7,Kxg7,Qg5,dxe5,dxe5,Bxf3,gxf3,Nd7,Nd2,Nc5,Ne4,Nxd3+,cxd3,Nf5,h4,Qxg5,hxg5,Rad8,Ke2,Nd4+,Ke3,Rd7,Nf6,Nf5+,Kf4,Rd4+,Ne4,h6,gxh6+,Nxh6,Kg5,Nf5,Nf6,Rh8', 'Rxh8,Kxh8,Rh1+,Rh4,Rxh4+,Nxh4,Kxh4', 'https://lichess.org/training/ywbcE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ywBwi', 'Classical', 'Ludopata100', 1637, 'nrtaylor', 1625, 'e4,c5,Bc4,e6,d3,d5,exd5,exd5,Bb5+,Nc6,a3,Qa5+,Nc3,d4,Qe2+,Be7,Bxc6+,bxc6,Bd2,dxc3', 'Bxc3,Qa4,Bxg7', 'https://lichess.org/training/ywBwi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YWe0w', 'Blitz', 'Zebukrek', 1893, 'JulesFadriquela', 1872, 'e4,e5,d4,Nc6,d5,Nce7,f4,Ng6,f5,Qh4+,g3,Qxe4+,Qe2,Qxh1,Nf3,N6e7,g4,f6,Bd2,Nxd5,Nc3,Nxc3,Bxc3,Bc5,O-O-O,Ne7,Bg2,Qxd1+,Qxd1,c6,h4,d5,a3,O-O,b4,Bb6,Qf1,e4,Nd4,Bd7,Qf4,Nc8,g5,fxg5,Qxg5,Bxd4,Bxd4,Rf7,f6,g6,h5,Bf5,hxg6,Bxg6,Bh3,Nd6,Be6,Rf8,Bxf7+,Rxf7,Be5,Nb5,a4,Na3,Qg4,Nc4,Qc8+,Rf8,f7+,Kxf7', 'Qd7+,Kg8,Qg7#', 'https://lichess.org/training/YWe0w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ywelc', 'Rapid', 'FranciscoArtesi', 1945, 'bumblebee-man', 1818, 'd4,Nf6,Bf4,e6,Nf3,Nc6,e3,Be7,Bd3,O-O,c3,h6,h4,b6,g4,Nxg4,Ne5,Ngxe5,dxe5,Bxh4,Qg4,Bg5,Nd2,f5,Qg3,Bxf4,exf4,Kf7,Rg1,Rg8,Qh3,Bb7,Qh5+,Kf8,O-O-O,a5,Rg6,a4,Rdg1,a3,b3,Qe7,Qxh6,d6,Rxe6', 'gxh6,Rxg8+,Kxg8,Rxe7,Nxe7', 'https://lichess.org/training/Ywelc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YWEvB', 'Blitz', 'holovinskyi', 1835, 'rs1825', 1950, 'd4,d5,Nc3,c6,Nf3,Nf6,Bg5,e6,Ne5,Be7,e3,Nbd7,Be2,O-O,O-O,c5,Bb5,a6,Bxf6,Nxf6,Be2,Nd7,Nxd7,Bxd7,Re1,cxd4,exd4,Bf6,Bg4,Qb6,Re3,Qxd4,Qf3,Rac8,Rd1,Qb6,Nxd5,exd5,Bxd7,Rxc2,Rb3,Qc5,Rxb7,Bd4,Rxd4,Qxd4,Qxf7+,Rxf7', 'Rb8+,Rc8,Rxc8+,Rf8,Be6+,Kh8,Rxf8#', 'https://lichess.org/training/YWEvB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ywFhK', 'Rapid', 'TuTu94', 2179, 'baxus', 2004, 'd4,Nf6,Nc3,d5,Bf4,c6,e3,Bg4,f3,Bf5,g4,Bg6,h4,h6,Bd3,Bxd3,Qxd3,e6,O-O-O,Bd6,Nge2,Qc7,Bxd6,Qxd6,e4,Qb4,e5,Ng8,f4,Nd7,f5,O-O-O,Rdf1,c5,Rf4,c4,Qd2,Qa5,Rf3,Ne7,fxe6,fxe6,Rf7,Nc6,Rxg7,Rdf8,Nf4,Nb6,Nxe6,Rf3,Kb1,Na4,Nxa4,Qxd2,Nac5,Nd8', 'Rc7+,Kb8,Nd7+,Ka8,Rc8#', 'https://lichess.org/training/ywFhK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YWFpJ', 'Rapid', 'videogam', 2012, 'hichess2010', 1706, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,c4,b6,Nc3,Nf6,Bg5,Be7,e5,Ng8,Bxe7,Nxe7,Ne4,Nf5,Nd6+,Nxd6,exd6,O-O,Bd3,h6', 'Qe4,f5,Qxa8', 'https://lichess.org/training/YWFpJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YwI4x', 'Rapid', 'savotomasevic', 1952, 'Martinstrubli', 2178, 'd4,d6,Nf3,g6,c3,Bg7,g3,Nf6,Bg2,O-O,O-O,Nbd7,Re1,e5,dxe5,dxe5,Bg5,c6,Na3,h6,Bxf6,Qxf6,Nc4,Nb6,Ncxe5,Be6,Nd3,Rad8,Qc1,Rfe8,Nc5,Bc8,Nd4,Nd5,e3,b6,Ncb3,c5,Nb5,a6,Na3,Rd6,Rd1,Red8,Nc4,R6d7,e4,Nxc3,Rxd7', 'Ne2+,Kf1,Nxc1,Rxd8+,Qxd8', 'https://lichess.org/training/YwI4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YwibZ', 'Blitz', 'REALCHESS_SCHOOL', 2613, 'NM smurf42', 2579, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,g3,Nge7,Bg2,Ng6,O-O,Ngxe5,Nxe5,Nxe5,b3,Bc5,Bb2,O-O,e3,Bg4,Qc2,d3,Qc3,f6,b4,Be7,f3,Be6,Nd2,a5,a3,axb4,axb4,Qd6,c5,Qd7,f4,Ng4,Qd4,c6,Be4,Rad8,Qxd7,Rxd7,Rfe1,f5,Bf3,Nf6,e4,Rfd8,exf5,Bxf5,Kf2,Ng4+,Kg2,Bf6,Bxg4,Bxg4,Bxf6,gxf6,h3,Be2,Ra7,f5,Kf2,h5,Rb1,h4,b5,cxb5,Rxb5,hxg3+,Kxg3,Rc8,Kf2,Rc6,Rbxb7,Rxb7,Rxb7,Rxc5,Re7,Kf8,Re6,Kf7,Rb6,Rc2,Ke3,Rc1,Rb7+,Ke6,Rb6+,Kd5,Rb5+,Ke6,Re5+,Kf7,Rxf5+,Kg6,Rg5+,Kh6,Rg3,Rh1,f5,Ra1,f6,Ra7,Ne4,Ra8,Rg1,Kh5,Kf4,Kh4,Rg6,Re8,Rh6+,Bh5,Ng3,Rh8,Rxh5+,Rxh5,Nxh5,d2,f7,d1=Q,f8=Q', 'Qf1+,Ke5,Qxf8', 'https://lichess.org/training/YwibZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YWiCE', 'Classical', 'Deepak2495', 1701, 'KingKaan2012', 1750, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,Nd2,d6,Ndf3,Ng4,O-O,h6,Nh3,Be6,b3,Bxc4,dxc4,f5,exf5,Rxf5,Bb2,e4,Nd4,Bxd4,Bxd4,Nxd4,Qxd4,Qe8,Rae1,Re5,f4,exf3,Rxe5,Nxe5,Qd5+,Kh8,gxf3,Qh5,Kg2,Qg6+,Kh1,Qh5,Ng1,Rb8,f4,c6', 'Qxd6,Re8,fxe5', 'https://lichess.org/training/YWiCE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YwiDS', 'Bullet', 'ivan62', 1816, 'iamamitb', 1881, 'd4,Nf6,c4,c5,Nc3,cxd4,Qxd4,Nc6,Qd1,e6,Nf3,d5,cxd5,Nxd5,Nxd5,exd5,e3,Be7,Bd2,O-O,Bc3,Be6,Nd4,Nxd4,Bxd4,Bf6,Be2,Qa5+,Kf1,Bxd4,Qxd4,Rac8,Bd3,Qc5,Qxc5,Rxc5,Ke2,Rfc8,Kd2,h6,a3,Kf8,Rhc1,Ke7,Rxc5,Rxc5,Rc1,Kd6,Rxc5,Kxc5,Kc3,a5,b4+,axb4+,axb4+,Kc6,Kd4,f6,Bc2,b6,Ba4+,Kd6,Bb3,g6,f4,g5,g3,h5,fxg5,fxg5,h4,gxh4,gxh4,Bf7,Bc2,Be8,Bd1,Bf7,Be2,Be8,Bd1,Bf7,Bf3,Kc6,Ke5,Kb5,Bxd5,Bxd5', 'Kxd5,Kxb4,e4,b5,e5', 'https://lichess.org/training/YwiDS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YWirv', 'Blitz', 'vtrachys', 1847, 'Mr-Onions', 1829, 'd4,e6,Nf3,b6,Bf4,Bb7,e3,Nf6,Bd3,d6,h3,Nbd7,Be2,c5,c3,cxd4,cxd4,Rc8,Nc3,e5,dxe5,Ne4,Nxe4,Bxe4,exd6,Qf6,O-O,g6,Ba6,Rc6,Bb5,Rxd6,Bxd6,Bxd6,Bxd7+,Kxd7,Qa4+,Bc6,Qxa7+,Ke6,Qxb6,Bxf3,gxf3,Qxf3,Qb3+,Kf6,Qc3+,Be5,Qd3,Qxh3,Rfd1,Bh2+,Kh1,Be5+,Kg1,Bh2+,Kh1', 'Bg3+,Kg1,Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/YWirv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ywiut', 'Rapid', 'derago21', 1619, 'wiciu123', 1631, 'e4,e5,Bc4,Bc5,Nf3,Nc6,d3,Nd4,Ng5,Nh6,c3,Nc6,Qf3,O-O,Nh3,Ne7,Bxh6,gxh6,Qf6,Ng6', 'Bxf7+,Rxf7,Qxd8+', 'https://lichess.org/training/Ywiut');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YWIZK', 'Classical', 'morteza57', 1696, 'chikcoo1011', 1728, 'e3,e5,d3,d5,g3,f6,Bg2,Ne7,Nc3,Nbc6,Nf3,Be6,O-O,g5,h3,h5,e4,d4,Nd5,Nxd5,exd5,Bxd5,c4,Bxf3,Bxf3,h4,g4,Bd6,b3,Qd7,Bd5,O-O-O,Qc2,f5,Bf3,fxg4', 'Bxg4,Qxg4+,hxg4', 'https://lichess.org/training/YWIZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YwKAx', 'Rapid', 'DNIWE90lvl', 1925, 'Javan1345', 1930, 'a3,e6,Nc3,c6,e4,d5,exd5,exd5,g3,Nf6,Bg2,Be7,Nf3,O-O,O-O,Nbd7,Ne2,Bd6,d3,Qc7,c4,Ne5,Nxe5,Bxe5,d4,Bd6,c5,Be7,a4,Bg4,Qd3,Rae8,Nc3,Bh5,b4,Bg6,Qd2,b6,cxb6,Qxb6,b5,Bb4,Ba3,Bxc3,Qxc3,cxb5,Bxf8,Rxf8,axb5,Ne4,Qb2,Rb8,Rfc1,h6,Bf1,a6,Rc6', 'Qxc6,bxc6,Rxb2', 'https://lichess.org/training/YwKAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YwLq1', 'Rapid', 'mtu_nguch', 1991, 'bryanrey', 2150, 'e4,a5,Nc3,h5,a3,b6,d4,Bb7,f4,g6,Nf3,e6,e5,d5,Bd3,Ne7,O-O,Bg7,Ne2,Nd7,c3,c5,Be3,c4,Bc2,O-O,Ng3,f5,exf6,Rxf6,Rc1,Nf5,Nxf5,exf5,Ne5,Nxe5,fxe5,Rc6,Qd2,Qe7,Bh6,b5,Bxg7,Kxg7,Rce1,Rf8,Rf3,b4,cxb4,axb4,axb4,Rb6,Ra3,Qxb4,Qxb4,Rxb4,Rb1,Rb8,b3,Bc6,Ra6,Be8,Ra3,h4,Kf2,f4,Ke2,g5,Kd2,R8b7,h3,Bg6,Bxg6,Kxg6,Kc3,Kf5,Rb2,g4,hxg4+,Kxg4,Kc2,h3,gxh3+,Kxh3,bxc4+,Kg2,Rxb4,Rxb4,cxd5,Rxd4,Rd3', 'Rxd3,Kxd3,f3', 'https://lichess.org/training/YwLq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yWMpg', 'Rapid', 'MrWarg', 1682, 'Fox___1', 1629, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,d6,Nf3,O-O,e3,Bg4,Be2,Re8,h3,Bf5,Bd3,Bd7,g4,e5,dxe5,dxe5,Nxe5,Nc6,Nxd7,Qxd7,Qc2', 'Nb4,Qb3,Nxd3+', 'https://lichess.org/training/yWMpg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YwN1m', 'Rapid', 'Valtor', 2088, 'MezzoPiano', 2283, 'd4,Nf6,Nf3,g6,Nc3,d5,Bf4,Bg7,h4,c5,e3,Nc6,Be2,Qa5,O-O,Bg4,Ne5,Bxe2,Qxe2,O-O,Qb5,Qxb5,Nxb5,cxd4,exd4,Rfc8,c3,a6,Na3,Nxe5,Bxe5,Ne4,Bxg7,Kxg7,f3,Nd6,Rfe1,e6,g4,Rh8,Kf2,h5,Kg3,hxg4,fxg4,Ne4+,Kh3,f5,gxf5,exf5,c4,dxc4,Nxc4,g5,Rg1,Rxh4+,Kg2,Kf6,Nb6,Rah8,Kf1,Rh2,Rg2,Rh1+,Rg1,Rxg1+,Kxg1,f4,Rc1,Kf5,Rc7,Kg4,d5,Ng3,Nc4,f3,Ne5+,Kf4,Ng6+,Ke3,Nxh8', 'f2+,Kh2,f1=Q', 'https://lichess.org/training/YwN1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YWNuc', 'Rapid', 'ChessWithPanda', 1868, 'AMV-99', 1957, 'd4,Nf6,Bf4,g6,e3,Bg7,Bd3,d6,Nf3,Nc6,Nbd2,O-O,c3,Nh5,Bg3,Nxg3,hxg3,e5,dxe5,Nxe5,Qc2,Nxd3+,Qxd3,Bf5,e4,Re8,O-O-O,Bg4,Kb1,f5,Rde1,fxe4,Nxe4,Bf5,Nfg5,h6', 'Qd5+,Re6,Nxe6', 'https://lichess.org/training/YWNuc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YwNW8', 'Classical', 'Molurus', 2089, 'totoff', 2259, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d6,c3,Nc6,Nbd2,e5,Qc2,Bf5,e4,Bd7,dxe5,dxe5,Nc4,Qe7,Ne3,Ne8,Nd5,Qd8,Rd1,Ne7,Bg5,f6,Qb3,Kh8,Nxe5,Be6,Bh4,Bxd5,exd5,fxe5,d6,Nxd6,Qe6,Re8,Bxb7,Nef5', 'Bxd8,Rxe6,Bxa8,Re8,Bxc7', 'https://lichess.org/training/YwNW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YwowW', 'Blitz', 'Joko10', 1503, 'SachielParthiban_17', 1511, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,Qb6,O-O,f6,exf6,Nxf6,Re1,Bd6,Rxe6+,Kd7,Qe1,Rhe8,Rxe8,Rxe8,Ne5+,Bxe5,dxe5,d4,Bf4,h6,Qd2,g5,exf6,gxf4,Na3,Kc7,Qxf4+,Kc8,Qf5+,Bd7,Qg6,Qxb2,Nc2', 'Qxa1+,Nxa1,Re1#', 'https://lichess.org/training/YwowW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ywpP7', 'Classical', 'geekdevs', 1739, 'kgpetkov', 2084, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,Bg5,Ne4,Nxe4,dxe4,Nh4,h6,Bxe7,Bxe7,Nxf5,Bf6,e3', 'Qa5+,b4,Qxf5', 'https://lichess.org/training/ywpP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yWQAv', 'Rapid', 'AHindi', 1770, 'akirated', 1781, 'd4,d5,c4,c6,Nc3,Nf6,e3,Bf5,Nf3,e6,a3,Nbd7,b4,Bd6,c5,Bc7,Be2,O-O,O-O,b6,Nd2,bxc5,bxc5,Ba5,Bb2,Ne4,Ndxe4,Bxe4,Nxe4,dxe4,h4,Nf6,h5,Nd5,Bc4,f5,Qc2,Rb8,Ra2,Rf7,Bxd5,exd5,f3,Qh4,fxe4,fxe4,Rxf7,Qe1+,Rf1,Qxe3+,Kh1,Rf8,Qd1,Bc7,Rxf8+,Kxf8,Qf1+,Bf4,Bc1,Qxc1,Qxc1,Bxc1,a4,e3,g4', 'Bd2,Kg2,e2,Rxd2,e1=Q', 'https://lichess.org/training/yWQAv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YWrG7', 'Rapid', 'Sting2010', 1810, 'KiwiFa', 2062, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Be3,Bb4,Bd3,d5,Nxc6,bxc6,exd5,cxd5,Bd4,O-O,a3,Bd6,O-O,e5,Be3,d4,Ne4,Nxe4,Bxe4,Rb8,Bc1,f5,Bd5+,Kh8,f4,Ba6,Rf3,e4,Rh3,Bc5', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/YWrG7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YwrUg', 'Blitz', 'ferluSILVER2', 1729, 'B0RG0V', 1867, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,Be2,O-O,O-O,d5,f3,dxe4,fxe4,Qb6,Rb1,Nxe4,Nf5,Nxc3,bxc3,Qa5,Nxg7,Kxg7,Bd4+,Nxd4,Qxd4+,f6,Bc4,Bf5,Rxb7,Rfe8,Re1,Rad8,Rexe7+,Rxe7', 'Rxe7+,Kh6,Qh4#', 'https://lichess.org/training/YwrUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ywspk', 'Blitz', 'Crocorus', 2114, 'KillTheWhales', 2141, 'd4,Nf6,e3,d6,Bd3,g6,b3,Bg7,Bb2,O-O,f4,c5,c3,Nc6,Nf3,Bg4,Nbd2,a6,h3,Bxf3,Qxf3,Qd7,O-O,b5,Rad1,b4,dxc5,dxc5,Ne4,Qc7,Nxc5,bxc3,Bxc3,a5,Ne4,Nb4,Nxf6+,exf6,Bb2', 'Nxd3,Rxd3,Qc2,Rd7,Qxb2', 'https://lichess.org/training/Ywspk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yWtsk', 'Rapid', 'aneg61', 1936, 'sainsq', 1936, 'e4,e6,d4,c5,d5,d6,c4,exd5,exd5,Ne7,Bd3,g6,Ne2,Bg7,Nbc3,a6,a4,O-O,O-O,Re8,Qc2,Nd7,Ne4,Nf6,Nxf6+,Bxf6,Bh6,Nf5,Bf4,Bg7,Ng3,Nd4,Qd1,Qf6,Be3,Bd7,a5,Nf5,Nxf5,Bxf5,Bxf5,Qxf5,Qd2,Qe4,Bf4,Qxc4,Bxd6,Re2,Qc1,Qxc1,Raxc1,Rd8,Bxc5,Bxb2,Rcd1,Bc3,Bb6,Rd6,Bc7,Rd7,d6,Bf6,Rb1,Bd8,Rxb7,Bxc7', 'dxc7,Rxc7,Rxc7', 'https://lichess.org/training/yWtsk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ywv9A', 'Rapid', 'Lapa87', 1796, 'rolis892', 1762, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,g6,Qd2,Bg7,f3,b5,g4,Bb7,O-O-O,Nbd7,Kb1,Nc5,Bg2,Qc7,f4,O-O-O,e5,dxe5,Bxb7+,Kxb7,fxe5,Qxe5,Qg2+,Nfe4,Nxe4,Nxe4,Nb3,Kb8,Bd4,Rxd4,Nxd4,Qd5,Nb3', 'Nc3+,bxc3,Qxg2', 'https://lichess.org/training/ywv9A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yWvwW', 'Blitz', 'QFT2004', 1999, 'lean-to-teach', 1877, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,c6,Bf4,Bd6,Bg3,Bxg3,hxg3,Nbd7,e3,O-O,cxd5,exd5,Bd3,c5,Ne5,cxd4,exd4,h6,Qf3,Qb6,Nxd5,Qxb2,Rb1,Qxd4,Ne7+,Kh8,Nxd7,Bxd7,Rxb7,Rae8,Rxd7,Qxd7', 'Rxh6+,Nh7,Rxh7#', 'https://lichess.org/training/yWvwW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yWvxz', 'Blitz', 'lightbluegadget', 2020, 'plizer', 2048, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,d6,d4,Bd7,Bg5,a6,Ba4,b5,Bc2,Qc7,Re1,e5,d5,Nce7,Qd2,h6,Bh4,f5,Bxe7,Nxe7,exf5,gxf5,Na3,Ng6,h3,O-O-O,b4,c4,Nb1,e4,Nd4,Rdf8,a4,Kb7,axb5,axb5,Na3,Qb6,f4,Bxd4+,cxd4,Rhg8,Kh2,Rf7,Ra2,Rfg7,Re2,Nh4,Bd1,Rxg2+,Rxg2,Rxg2+,Qxg2,Nxg2,Rxg2,Qxd4,Bh5,e3,Kg3,Qxd5', 'Bf3,Qxf3+,Kxf3,Bc6+,Kg3', 'https://lichess.org/training/yWvxz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yWwjk', 'Classical', 'mark_gelfgat', 1733, 'jogo17', 1716, 'e4,g6,Nf3,e6,d4,c6,c4,d5,cxd5,cxd5,exd5,exd5,Qa4+,Bd7,Bb5,Qe7+,Be3,Qb4+,Qxb4', 'Bxb4+,Bd2,Bxd2+,Kxd2,Bxb5', 'https://lichess.org/training/yWwjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yWWYQ', 'Blitz', 'SuffyanB', 1660, 'vishal340', 1654, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,e5,Nc3,Bb4,Bd2,Nf6,Bd3,Nd4,Nf3,d6,Nxd4,exd4,Ne2,a5,a3,Bc5,Nf4,Ng4,h3,Ne5,O-O,g5,Nd5,g4,hxg4,Nxg4,Qf3,h5,Rfe1,h4,Bb5+,Kf8,Bc4,Be6,Nf4,Qf6,Bxe6,fxe6,Qxg4,d3,cxd3,h3,g3,e5,Nd5', 'Qxf2+,Kh1,Qg2#', 'https://lichess.org/training/yWWYQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ywxaC', 'Rapid', 'nightwatchers_king', 2067, 'Sawfish', 1786, 'e4,d5,Nf3,dxe4,Ng5,Bf5,Nc3,Nf6,Qe2,Nc6,Ngxe4,Nd4,Qd3,e5,Nxf6+,Qxf6,Ne4,Qg6,f3,Bxe4,fxe4,O-O-O,c3,Nb3', 'Qh3+,Kb8,axb3', 'https://lichess.org/training/ywxaC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ywXbl', 'Blitz', 'Hinata_Shoyou', 1795, 'SupaDupaDoge', 1820, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Qc7,O-O,Bd6,h3,Nf6,Nc3,b5,a3,Bb7,Re1,O-O,Kh1,Bc5,Be3,d5,exd5,exd5,Qc1,Nbd7,Nb3,d4,Bxd4,Bxd4,Nxd4,Nc5,Qg5,Qd7,Nf5,Nh5,Qxh5,g6,Nh6+,Kh8,Qe5+,f6,Qxc5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/ywXbl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yWYe4', 'Rapid', 'milchvo', 1877, 'Fechess79', 1880, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,Nf6,Bd3,e5,d5,Ne7,Bg5,Nd7,O-O,h6,Bh4,Nc5,Nc3,Nxd3,Qxd3,a6,Rac1,g5,Bg3,Bg4,h3,Bh5,b4,Ng6,a4,Nf4,Bxf4,gxf4,Nd2,Rg8,f3,Qg5,Rf2,Be7,b5,Kf8,a5,Kg7,Na4,Kh7,Nb6,Rad8,bxa6,bxa6,Qxa6,Qh4,Kf1,Qg3,Rc7', 'Bh4', 'https://lichess.org/training/yWYe4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YWYjN', 'Blitz', 'Ivanchuch', 2277, 'FM white_shark_71', 2299, 'e4,c6,d4,d5,e5,Bf5,g4,Bd7,c4,e6,Nc3,Ne7,f4,dxc4,Bxc4,Nd5,Nf3,Bb4,Bd2,Na6,Bxa6,bxa6,a3,Be7,b4,a5,Nxd5,cxd5,bxa5,Bb5,a4', 'Bh4+,Nxh4,Qxh4#', 'https://lichess.org/training/YWYjN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ywYkn', 'Rapid', 'sasa1234', 2038, 'rogeliogalactico', 1994, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,Ng1,Qxd5,Qb5+,Qxb5,Bxb5+,c6,Bc4,Nbd7,Ne2,Ne5,Bb3,Bg4,Nbc3,Bd6,h3,Bh5,Ng3,Bg6,O-O,O-O,Re1,a5,a3,Rfe8,Ncxe4,Nxe4,Nxe4,Nd7,d3,Bc7,Bd2,Rac8,Kf1,h6,g4,Be5,c3,Bxe4,dxe4,Nc5,Bc2,Ne6,Be3,Rcd8,Rad1,Nf4,Bxf4,Bxf4,f3,f6,Rd3,Rxd3,Bxd3,Rd8,Rd1,Kf8,Ke2,g5,Ra1,b5,Rd1,Ke7,c4,b4,axb4,axb4,Ra1,Be5,Ra7+,Rd7,Rxd7+,Kxd7,b3,c5,Kf2,Kd6,Kg2,Bf4,Kf2', 'Ke5,Ke1,Kd4', 'https://lichess.org/training/ywYkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YX0aN', 'Rapid', 'gbd', 2026, 'zdravko100', 1863, 'd4,d5,c4,e6,Nc3,g6,e4,dxe4,Nxe4,Bg7,Nf3,Nf6,Ng3,Nc6,Be2,h6,O-O,O-O,Be3,Ng4,h3,Nxe3,fxe3,Qd6,Ne4,Qb4,Qc2,b6,Nh2,e5,d5,Ne7,Bd3,Nf5,Qe2,c6,a3,Qe7,dxc6,a5,g4,Nh4,Nf3,Nxf3+,Rxf3,Qe6,Ng3,Qxc6', 'Be4,Qe8,Bxa8', 'https://lichess.org/training/YX0aN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YX1aa', 'Blitz', 'Viscometerlack', 1626, 'gstrgy07', 1623, 'e4,e5,Bc4,Nf6,Nc3,Nc6,Nf3,d6,d4,exd4,Nxd4,Nxd4,Qxd4,h6,O-O,Be7,f3,Bd7,Nd5,Nxd5,Qxd5,Be6,Qd3,Bxc4,Qxc4,Qd7,Qc3,O-O-O,Qxg7,Rhg8,Qd4,Qh3,Rf2,Bh4,Re2,Rg6,Bf4,Rdg8,Qd2,Bg5,Bxg5,Rxg5,Kh1,Qh4,Rg1', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/YX1aa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yx1wV', 'Rapid', 'feodor77', 2115, 'othmanGSM', 1986, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Qb6,Nb3,Be7,Qf3,Nc6,O-O-O,O-O,Bd3,Bd7,Rhe1,Rfe8,e5,dxe5,fxe5,Nd5,Bxe7,Ncxe7,Ne4,Bc6,Ng5,f5,Qh5,h6,Qf7+,Kh8,Nxe6,Rg8,Nbd4', 'Be8,Qxf5,Nxf5', 'https://lichess.org/training/Yx1wV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yx2ET', 'Rapid', 'lj1983', 1993, 'RunAfterU', 1898, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,c3,Nxe4,Re1,Nf6,d4,e4,d5,a6,Qa4,Nxd5', 'Bxc6+,bxc6,Qxc6+,Bd7,Qxd5', 'https://lichess.org/training/Yx2ET');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yx3iR', 'Rapid', 'JP1979', 1747, 'Galina40', 1671, 'd4,d5,Bf4,b6,e3,Bb7,c3,Nd7,Nd2,h6,Bd3,Ngf6,Ngf3,e6,Qe2,c5,h4,Be7,Ne5,O-O,Ng4,Nh5,Nxh6+,gxh6,Qxh5,f5,Qg6+,Kh8,Rh3,Rf6,Qh5,Kh7,Rg3,Qe8,Qf3,Rg6,e4,Rxg3,Qxg3,Qh5,exf5,Rg8,f6+,Kh8,Qe3,Bxf6,Qxe6', 'Re8,Qxe8+,Qxe8+', 'https://lichess.org/training/Yx3iR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YX5WY', 'Rapid', 'Ahmedbasha17', 1722, 'coopers90', 1828, 'g3,d5,Bg2,e6,e3,g6,Ne2,Bg7,O-O,c5,c3,c4,b3,b5,a4,bxa4,bxc4,Bb7,cxd5,Bxd5,Qxa4+,Qd7,Qxd7+,Nxd7,Bxd5,exd5,d4,Ne7,Nd2,O-O,Ba3,Rfe8,Nf4,Nf6,c4,dxc4,Nxc4,Ne4,Bxe7,Rxe7,Nd5,Rb7,f3,Nc5,dxc5,Bxa1,Rxa1,Rd8,e4,f5,h4,fxe4,fxe4,Rf7,Nd6,Rf3,Kg2,Rdf8,Nf4,Rc3,Rxa7,Rb8,Rb7,Ra8,Rb5,Ra2+,Kh3,Rc1,e5,h5,Rb8+,Kg7,Rb7+,Kg8,Rb8+,Kg7,Rb7+,Kg8,g4', 'Rc3+,Nd3,Rxd3#', 'https://lichess.org/training/YX5WY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YX5Y2', 'Classical', 'Franciscord', 1862, 'Uncle_Uche_P', 1748, 'd4,d5,Nf3,Bf5,Bf4,e6,e3,Bd6,Bxd6,Qxd6,c3,Nf6,Ne5,Nbd7,f4,O-O,Nd2,Ne4,Nxe4,Bxe4,Kf2,Nxe5,fxe5,Qe7,Bd3,f6,Bxe4,dxe4,Qg4,fxe5+,Ke2,Qf6,Raf1,Qe7,Qxe4,Rxf1,Rxf1,exd4,exd4,c6,Kd3,Rf8,Rxf8+,Qxf8,Qxe6+,Kh8,c4,a5,d5,cxd5,cxd5,Qf1+,Kd4,h6,d6,Qf4+,Kc5,Qb4+,Kd5,Qd2+,Kc4,Qb4+,Kd3,Qb5+,Kd4,Qb4+,Ke3', 'Qe1+,Kf3,Qxe6', 'https://lichess.org/training/YX5Y2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yX6sz', 'Rapid', 'franz1023', 1979, 'ANRK', 1872, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h6,h5,Bh7,e6,fxe6,Bd3,Bxd3,Qxd3,Nf6,Nf3,Ne4,Ne5,Nd7,f3,Nxe5,dxe5,Qa5+,c3,Nc5,Qg6+,Kd7,b4,Qb5,bxc5,Qxc5,Qd3,g5,Ba3,Qb6,Nd2,Bg7,Qg6,Qe3+,Kd1,Bxe5,Re1,Qxc3,Rc1,Qxa3,Rxe5,Qd6,Re3,e5,Qxd6+,Kxd6,Ke2,Rhf8,Rd3,Rf7,a4,Raf8,Rb1,b6,Rf1,e6,Rb1,c5,a5,Rb8,axb6,Rxb6', 'Nc4+,Kc7,Nxb6', 'https://lichess.org/training/yX6sz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YX7xK', 'Rapid', 'SimonHypericum', 1935, 'MayKingMarch', 2044, 'd4,Nf6,c4,e6,Nc3,c5,d5,exd5,cxd5,d6,g3,g6,Bg2,Bg7,e4,O-O,Nf3,a6,a4,b6,O-O,Bg4,h3,Bxf3,Qxf3,Nbd7,Qe2,Re8,Bg5,Rc8,Qxa6,c4,Qb5,Nc5,Rfe1,Nd3,Re2,Qc7,a5,bxa5,Qxa5,Qxa5,Rxa5,Nd7,Nb5,Bf8,Ra7,N7c5,Bf6,Rb8,Na3,Rb4,Bc3,Ra4,Rxa4,Nxa4,Nxc4,Nxc3,bxc3,Rc8,Nb2,Rxc3,Nxd3,Rxd3,e5,dxe5,Rxe5,Kg7,Kf1,Rd2,Ke1,Bb4,Kf1', 'Rd1+,Ke2,Re1+,Kf3,Rxe5', 'https://lichess.org/training/YX7xK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yx87c', 'Rapid', 'grandservant', 1698, 'Tu2', 1685, 'd4,d6,e4,Nd7,Nf3,e5,dxe5,dxe5,Bb5,c6,Bc4,b5,Bb3,Be7,a3,Ngf6,Nc3,a6,Ng5,O-O,O-O,Qc7,Qe2,Nc5,Ba2,Bg4,Qe3,Be6,Nxe6,Nxe6,Qh3,Nc5,Be3,Ncxe4,Nxe4,Nxe4,Qg4,Nd6,Bh6,Bf6,Rad1,Kh8,Bg5,Bxg5,Qxg5,Nc4,Rde1,Rad8,Bxc4,bxc4,Rxe5', 'f6', 'https://lichess.org/training/yx87c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yX88G', 'Rapid', 'Slava1974', 1886, 'marco2771', 1923, 'e4,Nf6,Nc3,d6,Nf3,Nc6,d4,Bg4,Be2,e6,O-O,Be7,h3,Bh5,d5,exd5,exd5,Nb4,a3,Na6,Bb5+,Nd7,Re1,O-O,Bxa6,bxa6,Qd3,Nc5,Qf1,Bxf3,gxf3,Bh4,Qg2,Re8,Bh6,g6,b4,Nd7,Re4,Bf6,Bd2,Ne5,Rae1,Qd7,f4,Nc4,Rxc4,Rxe1+,Bxe1,Re8,Re4,Rb8,Ne2,Qf5,Qf3,h5,c4,a5,Ng3,Qxh3,f5,h4,fxg6,hxg3,gxf7+,Kxf7,Rf4', 'Qh2+,Kf1,g2+,Qxg2,Qxf4', 'https://lichess.org/training/yX88G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YX89E', 'Classical', 'Chrno_Crusade', 1730, 'Bading', 1738, 'e4,e5,d4,Qf6,dxe5,Qxe5,Nc3,Bb4,Ne2,Qxe4,Bd2,Qg6,Nf4,Qb6,Qe2+,Ne7,Nfd5,Qa5,Nxe7,Bxe7,O-O-O,Nc6,a3,O-O,Nb5,Qb6,Be3,Bc5,Nxc7', 'Bxe3+,Qxe3,Qxc7', 'https://lichess.org/training/YX89E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yX8tN', 'Rapid', 'chezkru', 1804, 'Frank5568', 1814, 'c4,c6,g3,d5,cxd5,cxd5,d4,Bf5,Bg2,e6,e3,Nf6,Ne2,h5,h4,Be4,O-O,Bxg2,Kxg2,Bd6,Nbc3,Qc7,b3,a6,Bb2,Nc6,Rc1,Rc8,Na4,Ne4,Nc5,Nxc5,dxc5,Be5,Nd4,Rh6,f4,Bf6,Kf3,Nxd4+,Bxd4,Qe7,Qd2,Rc6,Rc2,Qc7,Rfc1,Kf8,a4,e5,Bb2,e4+,Kf2,Bxb2,Rxb2,Rxc5,Rxc5,Qxc5,Rc2,Qd6,Qc3,Qc6', 'Qb4+,Kg8,Rxc6', 'https://lichess.org/training/yX8tN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxAqC', 'Classical', 'tmoakt4', 2030, 'Ovodidze', 1827, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e4,Bc5,Be2,Bd4,Nd5,Nxe4,O-O,O-O,d3,Nf6,Bg5,Bxb2,Nxf6+,gxf6,Bh6,Bxa1,Qxa1,Re8,d4,d6,g4,Bxg4,Kh1,Bxf3+,Bxf3,Nxd4,Rg1+,Kh8,Bg7+,Kg8,Bxf6+,Kf8,Rg8+,Kxg8', 'Qg1+,Kf8,Qg7#', 'https://lichess.org/training/YxAqC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxC79', 'Rapid', 'Evgeniy-MSK', 1713, 'Digimansion', 1690, 'e4,e5,Nf3,Nc6,Bb5,Qe7,c3,Nf6,O-O,Nxe4,Re1,Ng5,Bxc6,bxc6,d4,Nxf3+,Qxf3,d6', 'Qxc6+,Qd7,Qxa8', 'https://lichess.org/training/YxC79');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YXcdT', 'Rapid', 'mpmiko', 1938, 'OscarU26', 1947, 'e4,e6,Nf3,b6,d4,Bb7,Nc3,Ne7,Bg5,g6,Be2,Bg7,e5,O-O,Qd2,Qe8,Bf6,c5,Qg5,Nf5,g4,Bxf3,gxf5,Bxh1,f3,exf5,O-O-O,Bxf3,Bxf3,cxd4,Nd5,Nc6,Nc7,Qe6,Nxe6,dxe6,Bxc6,Rad8,c3,Rc8,Bb5,dxc3,bxc3,Rxc3+,Kb2,Rfc8,Ba4,a6,Rd2,b5,Bd1,a5,h4,a4,h5,h6,Qg2', 'a3+,Ka1,Rc1#', 'https://lichess.org/training/YXcdT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxDmD', 'Rapid', 'naborjs', 2036, 'bouali1', 1823, 'e4,d6,d4,Nf6,Nc3,g6,Bd3,Bg7,Nf3,O-O,h4,h5,Bg5,Nbd7,Qd2,e5,d5,Nc5,Bh6,Nxd3+,cxd3,c6,Bxg7,Kxg7,dxc6,bxc6,Ng5,Rb8,Rb1,Qa5,f4,exf4,Qxf4,Qxc3+,bxc3,Rxb1+,Kd2,Rxh1,Qxd6,Rxh4,e5,Nh7', 'Nxh7,Kxh7,Qxf8', 'https://lichess.org/training/YxDmD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxdRC', 'Classical', 'Narmaldakka', 1797, 'Ihtiander', 1806, 'e4,c5,f4,e6,Nf3,d5,Nc3,g6,Ne2,Bg7,e5,Ne7,Ng3,O-O,d4,cxd4,Nxd4,a6,Bd3,Nbc6,c3,Nxd4,cxd4,Nc6,Be3,f5,O-O,Bd7,a3,Na5,b4,Nc6,Rc1,Na7,Qe2,Qb6,Rc5,Rfc8,Rfc1,Bf8,Rxc8,Rxc8,Rxc8,Bxc8,Qc2,Bd7,h4,Be7,h5,Bh4,Bf2,Bxg3,Bxg3,gxh5,Qf2,Nc6,Qe3,Qxd4,Qxd4,Nxd4,Bf2,Nc6,Bc5,Kf7,Kh2,Ne7,g3,Ng6,Kh3,Kg7,Be2,Kh6,Bd1,Bb5,a4,Bf1+,Kh2,h4,gxh4,Nxf4', 'Be3,Kg6,Bxf4', 'https://lichess.org/training/YxdRC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXG9b', 'Blitz', 'Valyettan', 2137, 'dasaj', 2177, 'd4,Nf6,c4,e6,Nc3,c5,d5,exd5,cxd5,d6,e4,g6,Nf3,Bg7,Bb5+,Nfd7,O-O,O-O,Bf4,Qe7,Ba4,a6,Bxd7,Nxd7,a4,Re8,Re1,h6,Qd2,g5,Nxg5,hxg5,Bxg5,Qf8,Re3,Ne5,Rg3,Ng6,f4,f5,Re1,Bd7,e5,dxe5,fxe5,Bxe5,Rxe5,Rxe5,Bf4,Qg7,Bxe5,Qxe5,Rxg6+,Kf7,Rh6,Rg8,h4,Rg7,d6,Be6,d7,Bxd7,Qxd7+,Kg8,Qd8+,Kf7,Nd5,Qe1+,Kh2,Qe5+,Kg1', 'Qe1+,Kh2,Qg3+,Kg1,Qxg2#', 'https://lichess.org/training/yXG9b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXGBq', 'Rapid', 'versatilaz08', 1827, 'yvgshul', 1838, 'e4,e5,Nf3,d6,d4,b6,dxe5,Bb7,exd6,Bxd6,Nc3,Nf6,Bb5+,Nc6,Qe2,a6,Bd3,Ne5,Bf4', 'Nxd3+,cxd3,Bxf4', 'https://lichess.org/training/yXGBq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YXGJH', 'Blitz', 'dubic', 2434, 'Lichinski', 2393, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bh4,O-O,Qc2,d5,cxd5,exd5,e3,Be7,Bd3,Be6,Nge2,c6,O-O-O,Nbd7,Kb1,b5,Nf4,Nb6,Nxe6,fxe6,f3,Nc4,Bxc4,bxc4,Bg3,Qa5,Ka1,Rf7,e4,Bf8,exd5,exd5,Rhe1,Rb7,Rb1,c5,Be5,Nd7,Qg6,Nxe5,Rxe5,Rb6,Qc2,cxd4,Rxd5,Qa6,Rxd4,Be7,Nd5', 'Qxa2+,Kxa2,Ra6+,Qa4,Rxa4#', 'https://lichess.org/training/YXGJH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yxgv2', 'Blitz', 'Hamurabi', 1807, 'zaldiero', 1789, 'e4,c5,Nf3,e6,Nc3,Nc6,b3,Qc7,Bb2,a6,Be2,b5,O-O,Nf6,d3,d5,Nd2,Be7,f4,d4,Ncb1,O-O,e5,Nd5,Qe1,Ne3,Rf3,Nxc2,Qg3,Nxa1,Bxa1,Nb4,Ne4,Nxa2,Nbd2,Nb4,Nf6+,Kh8,Qh4,h6,Nde4,Bb7,Rh3,Bxe4,dxe4,Qd8,Qxh6+,gxh6', 'Rxh6+,Kg7,Rh7+,Kg6,Bh5#', 'https://lichess.org/training/yxgv2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YXgww', 'Rapid', 'nicsmyrn', 1924, 'nlehrer', 2014, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Ba4,Nxd4,Nxe5,Ne6,Nc3,Be7,Nd5,O-O,Bd2,Nc5,Nxe7+,Qxe7,Re1,Nxa4,Ng6,Qf6,Nxf8,Kxf8,c3,Nxb2,Qc2,Nbc4,Qxh7,Ne5,Bf4,Ng6,Be3,Qh4,Qxh4,Nxh4,Bc5,Nf5,g4,b6,Ba3,Nh4,Re3,c5,Rh3,Ng6,Bc1,Ne5,f4,Nxg4,Rh8+,Ke7,Bd2,Nh6,Re1+,Kf6,Rd8,Nhf5,Re2,Nh4,Kf2,Nhf5,Bc1,Nh6,c4,Ng4+,Kg3,Nh6,h3,Nhf5+,Kf2,Ne7', 'Bb2+,Kg6,Rxe7', 'https://lichess.org/training/YXgww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXhsm', 'Classical', 'DrW0nderful', 1894, 'greatnoob', 1848, 'b3,e5,Bb2,Nc6,e3,Nf6,Bb5,d6,Nf3,h6,d4,a6,dxe5,axb5,exf6,gxf6,Qd3,Ne5,Qxb5+,Qd7,Qd5,Rg8,Nbd2,Rxg2', 'Nxe5,fxe5,Qxg2', 'https://lichess.org/training/yXhsm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXiJ6', 'Blitz', 'Tomeu81', 1552, 'Raukfort', 1594, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,d6,Nc3,Bg4,h3,Bh5,g4,Bg6,Nd5,h6,Bxf6,gxf6,Qe2,Nd4,Nxd4,Bxd4,c3,Bc5,O-O-O,c6,Ne3,Bxe3+,Qxe3,Qe7,Rhe1,a6,Qb6,a5,Re2,Qd7,d4,h5,dxe5,fxe5,f3,hxg4,hxg4,Rh3,Qe3,O-O-O,Red2,Qxg4,Rxd6,Rxd6,Rxd6,Rxf3,Qa7,Qf4+,Kc2,Bxe4+,Kb3,a4+,Kb4,Bd5', 'Qa8+,Kc7,Qd8#', 'https://lichess.org/training/yXiJ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXJDu', 'Rapid', 'DDLoveChess', 1698, 'aayan849', 1661, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Bb5,Bd7,Nc3,Na5,b4,Bxb5,Nxb5,Nc6,d5,Nxb4,Qa4,Nd3+,Kf1,Nxc1', 'Nxc7+,Kf8,Nxa8', 'https://lichess.org/training/yXJDu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxJv4', 'Rapid', 'Penkovski', 1765, 'vkalcich', 1707, 'e4,c5,Nf3,Nc6,c3,g6,Bb5,Bg7,O-O,a6,Bxc6,bxc6,d4,cxd4,cxd4,d6,Nc3,Bg4,Be3,Rb8,b3,Nf6,h3,Bd7,e5,dxe5,Nxe5,O-O,Qd2,Nd5,Nxd5,cxd5,Rad1,e6,Rfe1,Rc8,Nxd7,Qxd7,Bh6,Rc7,Bxg7,Kxg7,Re3,Rfc8,Rf3,Rc2,Qf4,Rxa2,Qf6+,Kg8,h4,Qd8,Qf4,Rac2,Rg3,R2c3,f3,Kg7,h5,Qf6', 'h6+,Kf8,Qxf6', 'https://lichess.org/training/YxJv4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXjY3', 'Blitz', 'PiyushNarsikar', 2304, 'IM DrMelekess', 2614, 'd4,d5,Nf3,c5,e3,e6,Nbd2,Nf6,c3,Nc6,Bd3,Bd6,O-O,O-O,Qe2,e5,dxe5,Nxe5,Nxe5,Bxe5,c4,Re8,Nf3,Bc7,cxd5,Qxd5,Bc4,Qh5,b3,Bg4,Bb2,Bxf3,Qxf3', 'Qxh2#', 'https://lichess.org/training/yXjY3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yxkLj', 'Rapid', 'KASPER55', 1771, 'aleksbarbarossa', 1624, 'd4,d6,e4,Nc6,Nf3,Bg4,c3,d5,Bd3,e5,Be3,exd4,Bxd4,Nxd4,cxd4,Bb4+,Nc3,dxe4,Bxe4,Nf6,Bxb7,Rb8,Bc6+,Bd7,Bxd7+,Qxd7,O-O,O-O,Ne5,Qf5,Qa4,Bc5,Nc6,Rxb2,dxc5,Qxc5,Rac1,Re8,Ne4,Qd5,Nxf6+,gxf6,Qg4+,Kh8,a4,Rg8,Qh3,Rb3,f3,Qg5,Qg4', 'Qe3+,Kh1,Rxg4', 'https://lichess.org/training/yxkLj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxkOg', 'Blitz', 'callampeon', 1693, 'egfgf', 1705, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Nf6,O-O,Be7,c4,c6,cxd5,Nxd5,Qc2,h6,Re1,O-O,Bxh6,gxh6,Ne5,Nb4,Bh7+,Kg7,Qe4,f5,Qf3,Kxh7,Qg3,Rg8,Qf4,Nc2,Nf7,Qf8,Rxe7,Rg7', 'Qxh6+,Kg8,Qh8#', 'https://lichess.org/training/YxkOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXkTy', 'Rapid', 'Osmeh', 1753, 'nebchess', 2112, 'e4,e6,c4,d5,cxd5,exd5,exd5,Qxd5,Nc3,Qd8,Nf3,Bd6,Bc4,Ne7,O-O,O-O,Re1,Nd7,d4,h6,Qb3,Nf6,Be3,b6,Nh4,c6,h3,Ned5,Nxd5,Nxd5,Nf3,Nxe3,Rxe3,Qf6,Ne5,Bxe5,dxe5,Qf4,e6,fxe6,Bxe6+,Kh8,Rf3,Qd6,Bxc8,Raxc8,Rd1,Rxf3,Qxf3,Qg6,Rc1,c5,b4,c4,Qb7,Rf8,Qxa7,Qf6,Rf1,c3,Qc7,Qd4,Qe7,Rf6,Qe3', 'Qxe3,fxe3,Rxf1+,Kxf1,c2', 'https://lichess.org/training/yXkTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yxKuQ', 'Classical', 'antoniovegas', 2034, 'Cobralord', 1806, 'd4,Nf6,Bf4,g6,Nc3,d5,e3,Bg7,Bd3,c6,h4,Nbd7,Nf3,Nh5,Bh2,Ndf6,Ne5,Nd7,Nf3,Nhf6,Qe2,a6,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bd3,Ng4,O-O-O,Nxh2,Rxh2,Bg4,Qe4,Bxf3,Qxf3,Qxd4,c3,Bh6+,Kb1,Qf4,Qh3,Rd8,g4,Bg7,h5,g5,f3,h6,Rhd2,O-O,Qg2,Kh8,Re2,Qc7,f4,gxf4,Qe4,f5,gxf5,Rg8', 'f6,Rxd3,fxg7+', 'https://lichess.org/training/yxKuQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YXl31', 'Rapid', 'Maitham_salah', 1613, 'anishramkumar', 1665, 'd4,d5,c4,e6,a3,Nf6,Nc3,Nc6,Bf4,Be7,e3,O-O,h3,h6,Nf3,Bd6,Bxd6,Qxd6,c5,Qd7,Bd3,b6,b4,a6,b5,Na5,O-O,axb5,Bxb5,c6,Bd3,bxc5,Ne5,Qd6,f4,cxd4,exd4,Nd7,Na4,Nxe5,fxe5,Qd7,Nc5,Qc7,Qf3,Nb7,Nxb7,Bxb7,Rab1,Rxa3', 'Bh7+,Kxh7,Qxa3', 'https://lichess.org/training/YXl31');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxlBf', 'Rapid', 'RikkiS', 1946, 'Mohamad688', 1956, 'e4,c5,Bc4,Nc6,d3,e6,h3,Nf6,c3,d5,exd5,exd5,Bb3,Be7,Ne2,O-O,O-O,a6,f4,b5,Ng3,c4,Bc2,b4,d4,a5,Nh5,Re8,Nxf6+,Bxf6,Qh5,h6,Nd2,a4,cxb4,Nxb4,Bf5,Bxd4+,Kh1,Bxf5,Qxf5,Nd3,Nf3,Bf6,Nh2,Nxc1,Raxc1,Bxb2,Rc2,a3,Ng4,Rb8,Ne5,Bxe5,fxe5,Qe7,Rcf2,Rb7,Qf3,Rc7,Qc3,Qc5,Qg3,d4,e6,Rxe6,Qg4,c3,Rxf7,Rxf7,Qxe6,Qc7', 'Qe8+,Kh7,Rxf7', 'https://lichess.org/training/YxlBf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YXlFh', 'Rapid', 'bubriate', 1703, 'christophe26', 1733, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,c3,Bd7,d4,exd4,cxd4,Nf6,e5,dxe5,dxe5,Qe7,O-O,Ng8,Bg5,f6,exf6,gxf6,Re1,Be6,Nd4,O-O-O,Bxc6,bxc6,Rxe6,Qxe6,Be3,Qc4,Nc3,Ne7,Qf3,Bg7', 'Qg4+,f5,Qxg7', 'https://lichess.org/training/YXlFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXMW8', 'Rapid', 'cartarsauce', 1904, 'kush1811', 1926, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,d5,exd5,exd5,Bb5,Nf6,O-O,Be7,Re1,O-O,Nc3,a6,Ba4,b5,Bc2,Bb4,a3,Bxc3,bxc3,Na5,Bf4,Nc4,Ne5,Qd6,Bg3,Qb6,Nxc4,bxc4,Be5,Ng4,Bg3,Qb2,Bd6,Rd8,Bc7,Rf8,Bd6,Rd8,Bb4,a5,Rb1,Qa2,Qd2,axb4', 'Bxh7+,Kxh7,Qxa2', 'https://lichess.org/training/yXMW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yxmzK', 'Blitz', 'IM qcontrol', 2510, 'Tuka_Rentsen', 2489, 'c4,Nf6,g3,e6,Bg2,d5,Nf3,Be7,O-O,O-O,b3,c6,Bb2,Nbd7,e3,Re8,Nc3,Bd6,d4,b6,Qe2,Ba6,Rfd1,Qe7,Nd2,Rac8,e4,e5,dxe5,Bxe5,f4,Bd4+,Kh1,dxe4,Ndxe4,c5,Qc2,Bb7,Re1,Nxe4,Nxe4,Kh8,Bxd4,cxd4,Qd2,Nc5,Ng5,Bxg2+,Kxg2,Qb7+,Kg1,h6,Nh3,Qd7,Nf2,a5,Nd3,Ne4,Qg2,Nc3,Ne5,Qf5,Qb7,Kg8,Qxb6,d3,Qxa5,d2,Qxc3,dxe1=Q+,Rxe1,f6,Nf3,Rxe1+,Qxe1,Rd8,Qe2,Qb1+,Kg2,Qc1,h4,Kh8,h5,Qc3,Qf2,Re8,Qd4', 'Re2+,Kh3,Qxf3,Qd8+,Kh7', 'https://lichess.org/training/yxmzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXnvn', 'Classical', 'mk3366', 1862, 'Den_ruS', 1853, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Nf3,b6,Bd3,Bb7,O-O,Nbd7,Be3,Re8,Qd2,Rc8,Rfe1,a6,Rad1,e5,d5,Nc5,Bc2,Rb8,b4,Ncd7,Bh6,Bxh6,Qxh6,Qe7,Ng5,Qf8,Qxf8+,Rxf8,Ba4,Bc8,g3,Nh5,Nf3,Ndf6,Kh2,h6,Ng1,Nh7,h4,b5,cxb5,Bd7,bxa6,Bxa4,Nxa4,Rxb4,Nc3,Ra8,Rb1,Rxb1,Rxb1,N7f6,f3,Rxa6,a4,c6,dxc6,Rxc6,Nge2,Nd7,Rb7,Nc5,Rb8+,Kg7,Ra8,Nf6,Nd5,Nxd5,exd5,Rb6,Nc3,f5,Kg1,Kf7,Kf1,Rb3,Nb5,Rxf3+,Ke2,Rxg3,Nxd6+,Ke7,Nc8+,Kd7,Nb6+,Kc7,a5,Ra3', 'Rc8+,Kb7,Rxc5', 'https://lichess.org/training/yXnvn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YXO4g', 'Rapid', 'KARMELIET', 1636, 'UmaE', 1820, 'd4,Nf6,c4,e5,Nc3,Bb4,dxe5,Ng4,e4,Nxe5,Bd2,O-O,Nf3,Qf6,Nd5,Nxf3+,Qxf3', 'Bxd2+,Kxd2,Qxb2+', 'https://lichess.org/training/YXO4g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yxpoY', 'Rapid', 'Tourenbiker007', 1918, 'Erbacher', 1896, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,Nc3,Bg4,h3,Bh5,Be2,Nf6,d3,h6,Na4,Bb6,Nxb6,axb6,Be3,O-O,a3,Nh7,Nh2,Bxe2,Qxe2,f5,exf5,Rxf5,Qg4,Qf6,Qg3,Rf8', 'Ng4,Qe6,Nxh6+', 'https://lichess.org/training/yxpoY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXq3t', 'Rapid', 'caalad', 2005, 'Pilulin', 2098, 'e4,c5,Nf3,Nc6,d3,d6,c3,Nf6,Qc2,Bg4,Be2,e6,Bg5,Be7,a4,h6,Be3,Qc7,O-O,O-O,Na3,a6,h3,Bh5,Nh2,Bxe2,Qxe2,Rfd8,f4,Na5,Rab1,Nb3,Qc2,Na5,Nf3,c4,Nxc4,Nxc4,dxc4,Qxc4,Nd2,Qc6,Rbe1,b5,axb5,axb5,Bd4,b4,Ra1,bxc3,Rxa8,Rxa8,Bxc3,Rc8,Qd3,d5,exd5,Nxd5,Nb1,Nxc3,bxc3,Bf6,Rc1,Qc7,Qf3,Qc4,Nd2,Qa2,Ne4,Bd4+,cxd4,Rxc1+,Kh2,Qa1,Nd6,Rh1+,Kg3,Qxd4,Qa8+,Kh7,Nxf7,Qe3+,Kg4,Qe2+,Kg3,Rc1', 'Qh8+,Kg6,Ne5+', 'https://lichess.org/training/yXq3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YXRAZ', 'Rapid', 'BakrovHelo', 2020, 'flyman2', 1786, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,e5,d5,Nh5,Qd2,a5,g4,Nf6,h4,Na6,h5,gxh5,gxh5,Re8,Bh6,Bxh6,Qxh6,Kh8,Nh3,Ng8,Qe3,Qf6,O-O-O,Bd7,Be2,Qh6,Kd2,Nc5,Rdg1,f5', 'Rxg8+,Rxg8,Qxh6', 'https://lichess.org/training/YXRAZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yxRiq', 'Rapid', 'Schachmundo', 2127, 'ErdemKabuk', 2165, 'e4,c5,Nf3,a6,c4,e6,d4,cxd4,Nxd4,Qc7,Nc3,Nc6,g3,Nf6,Bg2,h5,O-O,h4,Be3,hxg3,fxg3,Bc5,Qd2,Ng4,Rad1,Nxe3,Qxe3,Nxd4,Rxd4,e5,Nd5,Qd8,Qf3,Bxd4+,Kh1,O-O,Qh5,d6,Bh3,Bxh3,Qxh3,f5,exf5,b5,f6,Rxf6,Rxf6,gxf6,Qe6+,Kg7,Qg4+,Kf8,Qg6,e4,Qxe4,Be5,Qg6,Ra7,Qh6+,Rg7,Qh8+,Rg8,Qh6+,Ke8,Qh7,Rf8', 'Nc7+,Qxc7,Qxc7', 'https://lichess.org/training/yxRiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXSqv', 'Rapid', 'KURT-CEBE', 1779, 'mbaki', 1701, 'Nf3,d5,g3,Nc6,Bg2,e5,d4,e4,Nfd2,Nf6,c4,Nxd4,cxd5,Qxd5,Nc3,Qc6,Ndxe4,Nxe4,Nxe4,Nc2+,Kf1,Nxa1,Bg5,Bf5', 'Nf6+,gxf6,Bxc6+', 'https://lichess.org/training/yXSqv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxsR1', 'Blitz', 'alltogether', 1855, 'anto1959', 1569, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c3,a6,Ba4,b5,Bb3,g6,d4,exd4,cxd4,Bg7,Ng5,O-O,e5,Nf5,Be3,Nxe3,fxe3,Qxg5,Qf3,Bb7,Nd2,Na5,Ne4,Bxe4,Qxe4,Nxb3,axb3,f6,e6,dxe6,Qxe6+,Kh8,O-O,Rfe8,Qd7,Qxe3+,Kh1,Rec8,Rae1,Qd3,Rg1,f5,Re7,Qxd4,Qc6,Qxb2,Rxc7,Rxc7', 'Qxa8+,Rc8,Qxc8+,Bf8,Qxf8#', 'https://lichess.org/training/YxsR1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yxSz6', 'Rapid', 'ANX75', 1873, 'YGG15', 1859, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Qe2,Nf6,Qb5+,Qxb5,Nxb5,Bd7,Nxc7+,Kd8,Nxa8,b6,d3,Bc6,Nxb6,axb6,a4,e6,a5,bxa5,Rxa5,Bb4+,Bd2,Bxa5,Bxa5+,Kd7,Ne2,Na6,Nd4,Rb8,b3,Ba8,c4,Nc5,Nb5,Nxb3,Bc7', 'Rxb5,cxb5,Kxc7', 'https://lichess.org/training/yxSz6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YXThr', 'Blitz', 'Smile_xc', 2147, 'Aleksandr_080565', 1920, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,g6,Bxf6,exf6,cxd5,cxd5,Qb3,Be6,Qxb7,Nd7,Nxd5,Qa5+,Nc3,Rb8,Qc6,Rxb2,Qc8+,Ke7,e3,Bg7,Qc6,Bd5,O-O-O,Bxc6,Kxb2,Rb8+,Kc2,Ba4+,Nxa4,Qxa4+,Kd2,Rb2+,Ke1,Rxa2,Nf3,f5,Bd3,Qb4+,Kf1,f4,h3,fxe3,fxe3,Bh6,Re1,Qc3,Bb1,Rb2,Kg1,Bxe3+,Kh2,Kf8,Rhf1,Bf4+,Kh1,Bg3,Rc1,Qe3,d5,Kg7,Rcd1,Qe2,Rg1,Nf6,d6,Bxd6,Rxd6,Ne4,Bxe4,Qxe4,Rd7,a5,Rxf7+,Kh6', 'Rxh7+,Kxh7,Ng5+,Kh6,Nxe4', 'https://lichess.org/training/YXThr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YXuue', 'Rapid', 'gafuree', 1872, 'ronniak2', 1944, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bg5,e5,Nb5,d6,Bxf6,gxf6,a3,Ba5,Nxd6+,Kf8,Nxc8,Qxc8,b4,Bb6,Nd5,Bd4,c3', 'Bxc3+,Ke2,Bxa1', 'https://lichess.org/training/YXuue');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxvQq', 'Rapid', 'ben720', 1839, 'Said71', 1822, 'e4,e5,Nc3,c6,Bc4,Qe7,d3,b5,Bb3,Na6,f4,Nc5,Nf3,exf4,Bxf4,Nxb3,axb3,h6,O-O,g5,Be5,f6,Bc7,d6,Bb6,a6,Bd4,Be6,Ne2,c5,Bc3,b4,Bd2,a5,Ng3,Qd7,c3,h5,cxb4,cxb4,Bxb4,h4,Ne2,Qb5,Qc2,Rc8,Rxa5,Qxb4,Ra8,Rxa8,Qc6+,Kf7,Qxa8,Ne7', 'Nxg5+,Kg8,Nxe6', 'https://lichess.org/training/YxvQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxWaq', 'Blitz', 'berkethegreat', 1704, 'Fish_79', 1729, 'g3,c6,Nf3,d5,Bg2,f6,d3,e5,e4,d4,c3,c5,a3,b6,O-O,Bd6,c4,h5,h4,Bg4,Re1,g6,Qd2,Ne7,Nh2,Bd7,Qe2,Kf7,Nd2,Nbc6,Ndf3,Qg8,Bd2,g5,hxg5,fxg5,Nxg5+,Ke8,Bf3,Ng6,Bxh5,Rxh5,Qxh5,Be7,Ng4,Bxg4,Qxg4,Bxg5,Qxg5,Kd7,Qf5+,Kc7,f4,Rf8,Qh5,Nxf4,Bxf4,Rxf4,Rf1', 'Qxg3+,Kh1,Rh4+,Qxh4,Qxh4+', 'https://lichess.org/training/YxWaq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YXWjP', 'Classical', 'rspereira', 1645, 'Amigosdelclan', 1764, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,O-O,Bxb4,Nxb4,e5,Nfd5,O-O,c6,a3,Na6,Nc3,b5,Bxd5,cxd5,Nxd5,Bb7,Ne3,d6,Qd3,Bxf3,gxf3,Rb8,f4,Nc7,b4,dxe5,fxe5,Qg5+,Kh1,Rfd8,Rg1,Qh5,Rac1,Ne6,d5,Nf4,Qd4,Qf3+,Ng2,Rxd5', 'Qxf4,Qxf4,Nxf4', 'https://lichess.org/training/YXWjP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxWoJ', 'Blitz', 'Melipulli', 1678, 'pramires', 1677, 'd3,Nf6,g3,d5,Bg2,e5,e4,d4,f4,Bd6,Nf3,Nbd7,O-O,O-O,f5,h5,Bg5,Be7,Nh4,Ng4,Bxe7,Qxe7,Qf3,Ne3,Rf2,Nxg2,Kxg2,Nf6,h3,g5,Ng6,fxg6,fxg6,Bxh3+,Kxh3,g4+,Qxg4,hxg4+,Kg2,Kg7,Nd2,Kxg6,Raf1,Rf7,Nc4,b6,Rf5,Raf8,Nxe5+,Kg7,Rg5+,Kh6', 'Rg6+,Kh7,Rh1+,Nh5,Rxh5#', 'https://lichess.org/training/YxWoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YxWTz', 'Blitz', 'tigremarino', 1849, 'isashat', 1841, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e5,Bc4,Nc6,Nf3,Nf6,Ng5,d5,Nxd5,Na5,Nxf6+,gxf6,Qa4+,Bd7', 'Bxf7+,Ke7,Qb4#', 'https://lichess.org/training/YxWTz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yxWWn', 'Classical', 'MattyAhmed', 1621, 'faisalanw', 1625, 'd4,Nf6,Nf3,d5,Bf4,Bf5,e3,e6,Nbd2,Bb4,c3,Be7,Ne5,O-O,Ndf3,Nbd7,Bd3,Bg4,O-O,Nxe5,Bxe5,Ne4,h3,Bh5,g4,Bg6,Qc2,c5,c4,Ng5,Nxg5,Bxg5,f4,Bh4,g5,Bxd3,Qxd3,f6,gxf6,gxf6,Bd6,Qxd6,Qe2,Rf7,Qh5,Rg7+,Kh1,Bg3,Rg1,cxd4,Rg2,dxe3,Rag1,Qxf4,cxd5,Qe4,dxe6,Bf2', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/yxWWn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yxx5s', 'Classical', 'bibirevsky', 1730, 'qwestnv', 1814, 'e4,e5,Bc4,Nf6,Nf3,Nc6,d3,h6,Nc3,Bc5,a3,d6,Na4,Bb6,Nxb6,axb6,Be3,Be6,Bxe6,fxe6,Qd2,O-O,Bxh6,gxh6,Qxh6,Rf7,Ng5,Rg7,Qxg7+,Kxg7,Nxe6+,Kf7,Nxd8+,Rxd8,O-O,Nd4,c3,Nb3,Rad1,c5,f4,Ng4,fxe5+,Ke6,exd6,Ne3,h3,Nxf1,Rxf1,Rxd6,g4,Rxd3,Kg2,Rd2+,Kg3,Rxb2,g5,Nd2,Rf4,Rb3,g6,Rxa3,Rf8,Nxe4+,Kh4,Nf6,g7,Rxc3', 'Rxf6+,Kxf6,g8=Q', 'https://lichess.org/training/yxx5s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yxyvn', 'Rapid', 'tha1es', 1888, 'Valfon', 1800, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,e6,a3,Nc6,Be3,Nxd4,Bxd4,Qxd4,Bd3,Bd6,g3,O-O,O-O-O,Bxa3', 'Bxh7+,Nxh7,Rxd4', 'https://lichess.org/training/yxyvn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YXZFD', 'Rapid', 'Vladimir0102', 1719, 'AgusteengXZXZ', 1719, 'e4,e5,Nf3,Nc6,Bc4,Bc5,a3,Nf6,d3,O-O,O-O,a6,Nc3,d6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be6,Nd5,Bxd5,Bxd5,Nd4,c3,Ne6,Bxf6,Qxf6,Qg4+,Qg5', 'Bxe6,Qxg4,Bxg4', 'https://lichess.org/training/YXZFD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yXZN2', 'Rapid', 'Rainer312', 1936, 'bbt2011', 1934, 'c4,g6,d4,Nf6,Nc3,Bg7,Bg5,O-O,e3,d5,Bxf6,Bxf6,Nxd5,Bg7,Nf3,c6,Nc3,Bg4,Be2,Nd7,h3,Bxf3,Bxf3,Qa5,O-O,Qb4,Qb3,Qxb3,axb3,c5,d5,Nb6,Rab1,a5,Rfd1,a4,Nxa4,Nxa4,bxa4,Rxa4,b3,Rb4,d6,e6,Rd3,Rd8,Rbd1,Rb6,d7,Bf6,R1d2,Kg7,Bd1,Rc6,Rd6,Rc7,f4,Kf8,Kf2,Ke7,g4,Rdxd7,Rxd7+,Rxd7,Rxd7+,Kxd7,e4,Bd4+,Kf3,b6,h4,Kc6,Be2,Kb7,e5,Ka6,Bd3,Ka5,Ke4,Kb4,f5,Kxb3,fxg6,hxg6,h5,f5+,gxf5,exf5+,Kf4,gxh5,e6,Bf6,Kxf5,Be7,Bf1,Kc3,Ke4,Kd2,Kd5,Ke1,Bh3,Kf2,Kc6,Kg3,Bf1,h4,Kxb6,h3,Bxh3,Kxh3,Kc6,Kg4,Kd7,Bg5,Kd6,Kf4,Kxc5,Ke5,Kc6,Be7,Kd7,Bg5', 'c5,Kd5,c6', 'https://lichess.org/training/yXZN2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yy0hO', 'Rapid', 'Stella2008', 1904, 'Aurasphere', 1860, 'e4,c5,a3,d6,b4,cxb4,axb4,Nf6,Nc3,g6,d4,e5,dxe5,Nfd7,exd6,Bg7,Qd3,Ne5,Qd2,Nbc6,f4,Ng4,h3', 'Qh4+,Kd1,Nf2+', 'https://lichess.org/training/yy0hO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YY6dG', 'Rapid', 'setro_76', 1988, 'Jorgenberg', 2094, 'Nf3,d5,e3,c5,c4,d4,exd4,cxd4,b3,Nc6,Bd3,e5,a3,Nf6,Qe2,Bd6,c5,Bc7,b4,O-O,O-O,Bg4,Be4,Nxe4,Qxe4,f5,Qc2,Bxf3,gxf3,d3,Qc4+,Kh8,Bb2,Qg5+,Kh1,e4', 'Rg1,Qh6,Bxg7+,Qxg7,Rxg7', 'https://lichess.org/training/YY6dG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yy7AC', 'Blitz', 'rahamtallababiker', 1935, 'Lito24', 2025, 'g3,c5,Bg2,Nf6,Nf3,e6,O-O,d5,d4,cxd4,Nxd4,Be7,Nc3,O-O,e4,dxe4,Nxe4,Nd5,c4,Nb6,b3,Nc6,Nxc6,bxc6,Bb2,Bb7,Qg4,f6,Qxe6+,Kh8,Rad1,Qc7,Qh3,Bc8,Qh5,Be6,Rfe1,Bf7,Qg4,Bg6,a4,f5,Qh3,fxe4,Bxe4,Bxe4,Rxe4,Bf6,a5,Bxb2,axb6,axb6,Rh4,h6,Rd7,Qe5', 'Rxh6+,gxh6,Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/yy7AC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YybAC', 'Rapid', 'TISPACCO1753', 1999, 'iwansupendi', 1980, 'e4,c5,Nc3,d6,f4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,g6,O-O,Bg7,d3,Nf6,Qe1,Nd7,Qh4,Qc7,f5,f6,Ne2,O-O-O,Qe1,Kb8,Nf4,Nf8,d4,gxf5,exf5,Bxf3,Rxf3,cxd4,Nd5,Qxc2,Qxe7,Qc8,Qxg7,Nd7,Bf4,Rdg8,Bxd6+,Ka8,Qxd7,Qxd7', 'Nb6+,axb6,Ra3+,Qa4,Rxa4#', 'https://lichess.org/training/YybAC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YYBoe', 'Rapid', 'NM TheLlamaLord', 2334, 'SophiaRodgers', 2176, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,d5,a3,Bxc3+,bxc3,c5,cxd5,Nxd5,e4,Nxc3,Qb3,cxd4,Bd2,Nc6,Bxc3,dxc3,Qxc3,O-O,Bb5,Qb6,Bxc6,bxc6,Ne2,Ba6,Rc1,Rac8,Qc5,Qb2,Rc2,Qb1+,Rc1,Qd3,Rc2,Rfd8,Kf2,Qb3,Rhc1,h6,Rc3,Qb5,Qe3,Rd6,Nd4,Qb6,Nxc6,Rd2+,Kg3,Qxe3,Rxe3,Rc7,Rec3,Kf8,Nb4,Rxc3,Rxc3,Bf1,Rc8+,Ke7,Rc7+,Kf6,Rxa7,g5,f4,Rxg2+,Kf3,gxf4,Kxf4,e5+,Ke3,Re2+,Kf3,Rxh2,Nd5+,Kg6,Ne7+,Kg5,Nf5,Rh3+,Kf2,Bd3,Ng3,Kg4,Rxf7,Rh2+,Kg1', 'Kxg3,Rg7+,Kh3', 'https://lichess.org/training/YYBoe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YYCkg', 'Rapid', 'Takie11', 2286, 'FireFeather', 2409, 'f4,d5,Nf3,c5,e3,Nf6,d4,Nc6,c3,Bf5,Bd3,Bxd3,Qxd3,e6,O-O,Bd6,Ne5,a5,Nd2,O-O,Ndf3,c4,Qc2,Ne7,Bd2,b5,Be1,Nf5,Qe2,a4,a3,Ne4,g4,Nh6,h3,f6,Nc6,Qd7,Nb4,Nf7,Nc2,Qc6,Qg2,Bc7,Rd1,Rfd8,Nd2,Nfd6,Nf3,Rd7,Nb4,Qb6,Kh1,Rad8,Rg1,h6,g5,Nf5,Nc2,hxg5,fxg5,Nfg3+,Bxg3,Nxg3+,Qxg3,Bxg3,Rxg3,Qc7,Rdg1,f5,Ne5,Re7,g6,Rf8,Rf3,Rf6,h4,Kf8,h5,Ke8,Nb4,Qb7,Rf4,Rc7,Rg5,Rf8,Kh2,Rh8,Kg3,Ke7,Rh4,Kd6,Kf4,Qc8,Rh1,Qd8,Na6,Ra7,Nc5,Qf6,Rh2,Rh6,Rh3,Re7,Rh2,Kc7,Na6+,Kd8,Nc5,Rh8,Na6,Qf8,Nb4,Rb7,Rh3,Ke7,Nbc6+,Kd6,Nb4,Ra7,Nbc6,Rc7,Nb4,Qf6,Rh2,Ra8,Nc2,Qe7,Nb4,Rh8,Nf7+,Kd7,Nxh8', 'Qd6+,Kf3,Qxh2', 'https://lichess.org/training/YYCkg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yycM2', 'Blitz', 'Tarz_sgma', 1877, 'chesswhenhavetime', 1884, 'e4,d5,exd5,Qxd5,d4,Nc6,Be3,Nf6,c4,Qa5+,Nc3,Bg4,Qc2,O-O-O,a3,Nxd4,Bxd4,Rxd4,b4,Qe5+,Be2,Bxe2,Ngxe2,Rxc4,O-O,Ng4,g3,g6,Rad1,Bg7,Qd3,Rxc3', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/yycM2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yyfwY', 'Rapid', 'desetibrat', 1741, 'schubidus', 1767, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,Nf6,O-O,Be7,e5,Nfd7,exd6,Bxd6,d4,cxd4,Qxd4,Nf6,Bg5,Nbd7', 'Qxd6', 'https://lichess.org/training/yyfwY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yYg9Z', 'Rapid', 'franlopez1994', 1726, 'de-zimmner', 1739, 'e4,e6,Nf3,d5,e5,c5,c3,Ne7,d4,cxd4,cxd4,Nbc6,Nc3,a6,Bd3,Ng6,O-O,Bb4,Bd2,Qb6,a3,Be7,Be3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/yYg9Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yyH27', 'Rapid', 'nickem', 1767, 'diwali33', 1830, 'e4,c5,f4,Nc6,b3,g6,Bb2,Nf6,e5,Nd5,Nc3,Nxc3,Bxc3,Bg7,Qf3,e6,O-O-O,O-O,h4,Nd4,Qf2,Qe7,Bxd4,cxd4,Qxd4,Qa3+,Kb1,f6,h5,fxe5,fxe5,Rf5,hxg6', 'Bxe5,gxh7+,Kh8,Qxe5+,Rxe5', 'https://lichess.org/training/yyH27');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yYhbG', 'Rapid', 'CaissaHK', 1833, 'SeungjaeLee', 1615, 'e4,e5,Nf3,Na6,Bxa6,bxa6,Nc3,c6,O-O,d5,d3,dxe4,dxe4,Bb7,Nd5,a5,a4,Ba6,Re1,Bc8,Bg5,Qd6,Nc7+,Qxc7,Re3,Rb8,c4,Rxb2,Rb3,Rxb3,Qxb3,g6,Bh4,Bg4,Ng5,Nf6,f3,Bxf3,gxf3,Bh6,Ne6,Qc8', 'Bxf6,fxe6,Bxh8', 'https://lichess.org/training/yYhbG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YYIdT', 'Rapid', 'jokerini', 1787, 'Vladimirovich03', 1791, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,gxf3,Nc6,exd6,Bxd6,Nc3,h6,Bb5,a6,Ba4,b5,Bb3,Nf6,f4,O-O,e5,Re8,Be3,Bb4,exf6,Qxf6,Qd5,Bxc3+,bxc3,Qxc3+,Ke2,Nd4+,Kf1,Qxa1+', 'Kg2,Nxb3,Rxa1', 'https://lichess.org/training/YYIdT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YYJ6J', 'Rapid', 'aliwen', 1892, 'RonjaS', 2338, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nc6,h3,Bf5,a3,Rc8,Nf3,e6,Bb5,Bd6,O-O,h6,Re1,Ne7,Nh4,Bh7,Qf3,O-O,Be3,Bxc2,Re2,Bh7,Rd1,a6,Ba4,g5,Qg4,f5,Qh5,gxh4,Bxh6,Rf6,Bg5,Rg6,Qxh4,Qf8,Rde1,Qf7,Bd1,Nxd4,Qxd4,Rxg5,Rxe6,Qg7', 'Qxg7+,Kxg7,Rxd6', 'https://lichess.org/training/YYJ6J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YYJ6o', 'Classical', 'kata955', 2021, 'mingus', 1806, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,O-O,O-O,a3,a5,d3,d6,Bg5,Bg4,Nd5,Nd4,Nxf6+,gxf6,Bh6,Re8,h3,Nxf3+,gxf3,Bxh3,Kh2,Bxf1,Qxf1,Qe7,Qg2+,Kh8,Rg1,Rg8', 'Bg7+,Rxg7,Qxg7#', 'https://lichess.org/training/YYJ6o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YYLb2', 'Rapid', 'oOBuddhaOo', 1628, 'bboyslim', 1649, 'c4,c5,g3,d6,Bg2,Nc6,Nf3,b6,O-O,Bb7,e3,e5,Nc3,Nf6,Nd5,Nxd5,cxd5,Ne7,e4,Ng6,d4,cxd4,Bg5,Qd7,Rc1,Be7,Bxe7,Qxe7,Rc4,Ba6', 'Qa4+,b5,Qxa6,bxc4,Qc6+,Qd7,Qxa8+', 'https://lichess.org/training/YYLb2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yyLDz', 'Rapid', 'lameloser', 1852, 'masriahamed', 1721, 'e4,e5,Nf3,d6,d4,exd4,Bc4,c5,e5,h6,O-O,Bg4,exd6,Bxd6,Qd3,Bxf3,Qxf3,Nf6,Qxb7,Nbd7,Re1+,Be7,Bb5,O-O,Bxd7,Nxd7,Qe4,Re8,Qg4,Nf6,Qg3,Bd6,Rxe8+,Nxe8,Bf4,Bxf4,Qxf4,Nf6,Na3,Qb6,Rb1,Re8,Nc4,Qe6,Nd2,Qe2,h3,Nd5,Qf5,Qxd2,Qxd5,Qxc2,Rf1,d3,Qd7,Rb8,Qxa7,Qxb2,Rd1,Rd8,Qxc5,Qxa2,Kf1,Qc2', 'Qxc2,dxc2,Rxd8+,Kh7,Rc8', 'https://lichess.org/training/yyLDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YylQr', 'Classical', 'iedopadzert', 1771, 'monter86', 1665, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nf6,Nc3,Bc5,Nf5,O-O,O-O,d5,exd5,Bxf5,dxc6,bxc6,Bd3,Bxd3,cxd3,Bd6,Qf3,Qd7,Ne4,Nxe4,dxe4,Qe6,Re1,Qe5,g3,Rfe8,Re2,Re6,Bd2,Qxb2,Rc1,Bb4,Bf4,Qf6,e5,Qg6,Rb2,Be7,Rb7,f6,exf6,Rxf6,Kh1,Bd6,Rxc6,Bxf4,Rxf6,Qxf6,Qxf4', 'Qc6+,f3,Qxb7', 'https://lichess.org/training/YylQr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YYmI5', 'Rapid', 'theyukai', 1674, 'nickbellamossa', 1702, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Be2,Be7,Qd2,d5,O-O-O,dxe4,Nxc6,Qxd2+,Rxd2,bxc6,Rhd1,O-O,Rd4,e5,Rc4,Bb7,Nxe4,Nxe4,Rxe4,Bf6,Bc5,Rfd8,b4,Rxd1+,Kxd1,a5,a3,axb4,axb4,g6,Bd3,Ra1+,Ke2,h5,f4,exf4,Rxf4,Kg7', 'Rxf6,Kxf6,Bd4+', 'https://lichess.org/training/YYmI5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yYmoA', 'Blitz', 'Musabmg', 1915, 'gmsammy16', 1885, 'c4,e5,Nc3,Nc6,g3,f5,Bg2,Nf6,d3,d5,cxd5,Nb4,Qa4+,Bd7,Qb3,c6,dxc6,bxc6,a3,Nbd5,Nxd5,cxd5,Bxd5', 'Qa5+,Bd2,Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/yYmoA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YyMvU', 'Rapid', 'yousef1234', 1909, 'gavon', 1970, 'e4,e5,Nc3,Nf6,f4,d5,exd5,exf4,Qf3,Bd6,h3,O-O,d4,Re8+,Kd1,Bb4,Nge2,Nbd7,a3,Bxc3,Nxc3,Nb6,Bb5,Bd7,Bxd7,Qxd7,Bxf4,Nbxd5,Kd2,Nxf4,Qxf4,c5,Rae1,cxd4,Ne2,Rad8,Kc1,Re4,Qg3,d3,cxd3,Qxd3,Rd1,Qxg3', 'Rxd8+,Re8,Rxe8+,Nxe8,Nxg3', 'https://lichess.org/training/YyMvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yynAS', 'Rapid', 'bausi', 1892, 'ericminochess', 1905, 'b4,Nf6,Bb2,g6,g4,Bg7,g5,Nh5,Bxg7,Nxg7,h4,c6,e4,d6,Be2,Be6,b5,Bd7,a4,cxb5,axb5,Qb6,c4,Be6,Nc3,Nd7,d4,Nf8,d5,Bd7,Na4,Qa5+,Kf1,Qc7,Qd4,Rg8,Nf3,Nh5,e5,e6,exd6,Qxd6,c5,Qxd5,Qxd5,exd5,Ne5,Nf4,Bf3,Bxb5+,Kg1,Nd7,Nxd7,Kxd7,Nc3,Bc6,Rd1,Ke6,Kh2,Rad8,Rhe1+,Kf5,Kg3,Nh5+,Kh3,Rge8', 'Bg4+,Kf4,Rd4+', 'https://lichess.org/training/yynAS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yynGU', 'Classical', 'EfeAktac', 1826, 'mehmet_master78', 1842, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,c4,c5,Be3,Ng4,dxc5,Nxe3,fxe3,Bxc5,Qd2,O-O,cxd5,Re8,e4,Qb6,Nc3,Rxe4+', 'Nxe4,Bb4,Nc3', 'https://lichess.org/training/yynGU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yYnIp', 'Rapid', 'PaquitoFIMO', 2043, 'abt1395', 1993, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,d5,e3,b6,cxd5,exd5,Bd3,Bb7,Ne2,O-O,O-O,Bxc3,bxc3,Nbd7,Bd2,c5,c4,dxc4,Bxc4,cxd4,exd4,Rc8,Bd3,Nd5,Rc1,Rxc1,Qxc1,Qb8,Qc2,h6,Ng3,Rc8,Qb2,N7f6,Nf5,Nf4,Bxf4,Qxf4,Ne7+,Kh8,Nxc8,Bxc8,Re1,Bf5,Bxf5,Qxf5,Qe2,Qd5,Rd1,b5,a3,a5,Qe5,Qb3,Rc1,Qd3,d5,b4,axb4,axb4,Qb8+,Kh7,Qf4,b3,d6', 'b2', 'https://lichess.org/training/yYnIp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yynXH', 'Rapid', 'Virtue721', 1871, 'itsmagic', 2132, 'e4,c5,Bc4,e6,Nc3,d6,Nf3,Be7,d3,Nf6,O-O,a6,a3,O-O,h3,Nc6,Ne2,d5,exd5,Nxd5,Bb3,b5,Bd2,Bb7,c3,Nf6,d4,cxd4,Nfxd4,Nxd4,Nxd4,Qc7,Nf3,Rad8,Qe2,Nd5,Nd4,Nf4,Bxf4,Qxf4,Rad1,Qg5,Nf3,Qf6,Nd4,Bc5,Nf3,Bxf3,Qxf3,Qxf3,gxf3,g6,Kg2,Kg7,f4,Kf6,Kf3,Bb6,Ke2,Kf5,Kf3,h6,Bc2+,Kf6,Kg4,Kg7,f3,f5+,Kg3,Kf6,Bb3,Bc7,Rfe1,g5', 'Rxe6+,Kg7,Re7+', 'https://lichess.org/training/yynXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yYO4k', 'Rapid', 'rob34', 1898, 'kevinj73', 1849, 'e4,e5,Nf3,Nc6,Bc4,Nd4,c3,Nxf3+,Qxf3,Nf6,d3,Be7,Be3,d6,Nd2,Be6,Bb3,Qd7,O-O', 'Bg4,Qg3,Nh5,Qxg4,Qxg4', 'https://lichess.org/training/yYO4k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yyQ8P', 'Rapid', 'montecchyo', 1800, 'deni_chandra', 1983, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nf3,Bg4,Be2,Nc6,O-O,Be7,d5,Bxf3,dxc6,Bxe2,Qxe2,bxc6,Re1,f6,Qh5+,g6,Qh6,Kf7,Qe3,Re8,Qh3,Kg8,Bh6,Bf8,Nc3,Bxh6,Qxh6,Nxc4,h4,Nxb2,h5,Rxe1+,Rxe1,Qf8,Qd2,Nc4,Qd3,Qf7,hxg6,hxg6,Re4,Ne5,Qh3,g5,f4,f5,fxe5,fxe4,Nxe4,Rf8', 'Nf6+,Qxf6,exf6', 'https://lichess.org/training/yyQ8P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yyqI0', 'Rapid', 'Sagitgan', 1647, 'TbirdV', 1640, 'd4,e6,c4,d5,Nc3,c6,Bd2,Bb4,c5,b6,a3,Bxc3,Bxc3,bxc5,dxc5,Nd7,Bxg7,Nxc5,Bxh8,Nf6,Bxf6,Qxf6,b4', 'Qc3+,Qd2,Qxa1+', 'https://lichess.org/training/yyqI0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YyRAV', 'Rapid', 'maikkel', 1680, 'igorkb1961', 1631, 'd4,Nf6,c4,e6,Nc3,d5,e3,Bb4,a3,Bxc3+,bxc3,Nbd7,Nf3,b6,a4,Bb7,Be2,dxc4,Bxc4,O-O,O-O,c5,Ba3,Nd5,Qc2,f5,dxc5,bxc5,Rfd1,N7b6,Ba2,Qf6,Bxc5,Rfc8,Bxd5,Nxd5,Bd4,Qf8,Rab1,Ba6,Qb3,Bc4,Qb2,Rab8,Qc2,Rxb1,Rxb1,Ba6,Ne5,Qa3,e4,Nf4,exf5', 'Ne2+,Kh1,Nxd4', 'https://lichess.org/training/YyRAV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yyRV7', 'Blitz', 'mido16', 1589, 'Farsin', 1582, 'c4,e5,e4,Nf6,d3,Bc5,a3,d6,Nc3,Ng4,Nh3,Nf6,Bg5,Bxh3,gxh3,Nc6,b4,Bd4,Rc1,h6,Bxf6,Qxf6,Qe2,a6,Nd5,Qd8,Qg4,O-O,Rg1,g6,h4,h5,Qf3,Kh7,Nf6+,Kh8,Be2,Bxf2+,Kxf2,Nd4,Qe3,Qxf6+,Ke1,Nxe2,Qh6+,Kg8,Kxe2,Qxh4,Rg2,Qf6,Rcg1,Qh8', 'Rxg6+,fxg6,Qxg6+,Qg7,Qxg7#', 'https://lichess.org/training/yyRV7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YysLW', 'Blitz', 'trhoony', 1623, 'pilkey', 1578, 'e4,e5,Bc4,Bc5,Nf3,Nc6,O-O,Nf6,c3,O-O,Re1,Ng4,d4,exd4,Nxd4,Nxd4,cxd4,Bb4,Nc3,Bxc3,bxc3,d5,Bxd5,c6,Bc4,Qh4,Bf4,Qxf2+,Kh1,Qxf4,g3,Qh6,Qe2,Be6,d5,cxd5,Bxd5,Rac8,Bxe6,fxe6,Qxg4,Rf2,h4,Qd2,Qh3,Qxc3,Qxe6+,Rf7,Rf1,Rf8,Rac1,Qxg3', 'Qxf7+,Rxf7,Rc8+,Rf8,Rfxf8#', 'https://lichess.org/training/YysLW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YySzA', 'Rapid', 'aliaskarinejad', 1720, 'reza3849r', 1749, 'e4,Nf6,Nc3,b6,d4,Bb7,e5,Nd5,Bc4,Nxc3,bxc3,Bxg2,Qh5,g6,Qg4,Bxh1,Nh3,h5,Qg3,e6,Ng5,d6,Qf4,Qd7,Bd3,dxe5,dxe5,Nc6,Bb5,f5,exf6,Bh6', 'f7+,Ke7,Ba3+', 'https://lichess.org/training/YySzA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YYVkZ', 'Rapid', 'RIDVAN73', 1747, 'Fredwest', 1715, 'e4,Nc6,c4,d6,Nf3,e5,Nc3,f5,exf5,Bxf5,d3,Be7,Be2,Nf6,Bg5,h6,Bxf6,gxf6,h3,Rg8,Nh4,Be6,Bh5+,Kd7,Ne4', 'f5,Nxf5,Bxf5', 'https://lichess.org/training/YYVkZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YYwuF', 'Rapid', 'albertorubio', 1887, 'Neikos', 1965, 'e4,e6,Nc3,Bb4,e5,d5,Qg4,Bf8,d4,Ne7,Bg5,h5,Qg3,Nf5,Bxd8,Nxg3,hxg3,Kxd8,Be2,Bb4,Rxh5,Rxh5,Bxh5,g6,Bf3,Nc6,Ne2,Bxc3+,bxc3,b6,c4,Nb4,Kd2,Bb7,a3,Na6,cxd5,exd5,Nc3,c6,Ne2,Ke7,Rh1,Nc7,Bg4,Nb5,a4,Na3,f4,Nc4+,Kd3,Ba6,Kc3,Ne3,Bf3,Rc8,Kd2,Nc4+,Kc1,Ne3,Kd2,Nf5,g4,Bxe2,gxf5,Bxf3,gxf3,gxf5,Rh5,Ke6,Rh6+,Ke7,Rh5,Rg8,Rxf5,Rg2+,Kc3,Rf2,Rf6,Rxf3+,Kb2,c5,dxc5,bxc5,c3,Rf2+,Kb3,c4+,Kb4,Rb2+,Kc5,Rd2,Rd6,Rd3,Kb4,a5+,Kxa5,Rxc3,Rxd5,Rf3,Rd4,c3,Kb4', 'c2,Rc4,Rxf4,Rxf4,c1=Q', 'https://lichess.org/training/YYwuF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yYXg6', 'Classical', 'campeaoVPS16', 1640, 'FabianVilela', 1669, 'd4,d5,c4,Nc6,Nc3,e5,dxe5,d4,Nd5,Be6,e4,Bc5,Nf3,Nge7,Bd3,O-O,a3,a5,O-O,Ng6,Bd2,Ngxe5,Nxe5,Nxe5,Qe2,c6,Nf4,Qh4,Nxe6,fxe6,f4,Nxc4,Kh1,Nxd2,Qxd2,Rf6,g3,Qh3,Rf3,Raf8,Bf1,Qg4,Bg2,e5,Raf1,exf4,Rxf4,Rxf4,Rxf4,Rxf4,Qxf4,Qd1+,Qf1,Qc2,h3,d3,e5,d2,Bf3,Qc1,Bd1,Qxb2', 'Qc4+,Kf8,Qxc5+', 'https://lichess.org/training/yYXg6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yyxnz', 'Classical', 'leo7788', 1664, 'Striven5', 1694, 'e4,e6,d4,d5,exd5,Qxd5,Nf3,h6,c4,Qa5+,Bd2,Bb4,Nc3,Bxc3,Bxc3,Qh5,Ne5,Qxd1+,Rxd1,Nf6,d5,exd5,cxd5,a5,Bb5+,Bd7,Nxd7,Nbxd7,O-O,Kf8,Rfe1,Nc5,Re7,Kxe7,Be5,Rac8,d6+,cxd6,Bxd6+,Ke6,Bc4+,Kf5,f3,h5,h3,Rhe8,g4+,hxg4,hxg4+,Kg6,Kf2,Ne6,Bd3+,Kh6,Rh1+,Kg5,Kg3,Red8', 'f4+,Nxf4,Bxf4#', 'https://lichess.org/training/yyxnz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YYYnO', 'Blitz', 'hijodelrey', 1601, 'Luisferchess', 1813, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Nc6,Bc4,d6,Nf3,Na5,Bxf7+,Kxf7,Qd5+,Ke8,Qxa5,Nf6,O-O,c6,Qg5,h6,Qg6+,Kd7,Rd1,Qe8,Qg3,Nxe4,Nxe4,Qxe4,Bf4,d5,Ne5+,Kd8,Nf7+,Kd7,Nxh8,g5,Bb8,Rxb8,Qxb8,Bc5,Qg3,Qh7,Rac1,Bd6,Qe3,Qxh8,Qxa7,Qe5,g3,Kc7,Re1,Qf5,Qa5+,Kb8,b4,d4,b5,d3,Qd2,Bc5,bxc6,bxc6,Re8,Kc7,Qa5+,Bb6,Qa8', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/YYYnO');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 40;
-    }
-
-}
\ No newline at end of file
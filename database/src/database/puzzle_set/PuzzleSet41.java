@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet41 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yyynQ', 'Rapid', 'SaferKing', 1809, 'rugan', 2027, 'Nf3,c6,d4,d5,g3,e6,Bg2,f5,O-O,Nf6,c4,Bd6,b3,Qe7,Nc3,O-O,Bb2,Nbd7,e3,Ne4,Nxe4,fxe4,Ne5,Bxe5,dxe5,Qg5,h4,Qe7,Bh3,Rf3,a4,Qe8,Bg2,Rf5,Bh3,Rh5,Qg4,Nxe5,Bxe5,Rxe5,f4,exf3,Rxf3,Rf5,Raf1,Rxf3,Qxf3,Bd7,e4,dxc4,e5,cxb3,Qxb3,b5,a5,c5,Qd3,c4,Qd6,Rd8,Rd1,h6', 'Bxe6+,Bxe6,Qxd8,Qf8,Qxf8+', 'https://lichess.org/training/yyynQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yyzkh', 'Rapid', 'Vladimir0871', 1814, 'pollyanna35', 1807, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,d5,exd5,exd5,Qe2+,Be7,Bb5,Nf6,Bxc6+,bxc6,O-O,O-O,d4,cxd4,Nxd4,Bb7,Nd2,c5,Nf5,Re8,Qf3,Rb8,Qg3,g6,Nxe7+,Qxe7,Nf3,d4,Bg5,Bxf3,Qxf3,Rb6,h3,Qe5,h4,dxc3,bxc3,Rbe6,Rfe1,Qf5,Qxf5', 'Rxe1+,Rxe1,Rxe1+,Kh2,gxf5', 'https://lichess.org/training/Yyzkh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZ5ea', 'Blitz', 'SimonMujaji', 2198, 'Zero-0000', 2089, 'e4,c6,d4,d5,exd5,cxd5,c4,Bf5,Nf3,e6,Nc3,Nf6,Be2,Bb4,O-O,O-O,a3,Ba5,b4,Bc7,c5,a6,Ne5,Nc6,f4,Ne4,Bb2,Bxe5,fxe5,Qh4,Bf3,Ng5,Ne2,Nxf3+,Rxf3,Be4,Rg3,f5,Bc1', 'f4,Nxf4,Rxf4,Bxf4,Qxf4', 'https://lichess.org/training/yZ5ea');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yz5nY', 'Rapid', 'marwaha', 1692, 'dane65', 1712, 'e4,c5,Nf3,Nc6,c3,e5,Be2,d6,a4,Nf6,a5,Nxa5,h3,Qb6,O-O,Nb3,Ra3,Nxc1,Qxc1,Nxe4,Qc2,Nf6,Ng5,h6,Ne4,Nxe4,Qxe4,Be7,c4,f5,Bh5+,Kd8,Qd5,Qxb2,Rd3,Bd7,Na3,Bc6,Qxc5,Qb6,Qxe5,Be4,Rd4,Bf6,Qxd6+,Qxd6,Rxd6+,Kc7,Nb5+,Kb8,d3,Bc6,Rb1,a6,Na3,Kc7,Re6,Rad8,Rd1,Rd4,Nc2,Rd7,Nb4,Rhd8,Nxc6,bxc6,Re3,Rd4,Kf1,Rxc4', 'dxc4,Rxd1+,Bxd1', 'https://lichess.org/training/yz5nY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yz6tK', 'Blitz', 'sf2400', 1656, 'velvetEnvelope', 1641, 'c4,e5,g3,Nf6,Bg2,c6,Nc3,d5,cxd5,cxd5,d4,e4,e3,Nc6,f3,Bd6,fxe4,dxe4,Nxe4,Nxe4,Bxe4,O-O,Bg2,Re8,Nf3,Bg4,O-O,Qd7,Qc2,Nb4,Qb3,Rac8,Ne5,Bxe5,Qxb4,Bd6,Qd2,Bf5,Qf2,Bg6,b3,Rc2,Qe1,Bd3,Rf2,Rxf2,Qxf2,Qg4,Bb2,Be4,Bxe4,Qxe4,Re1,h5,Qg2,Qg4,Qxb7,h4,Qb5,hxg3,Qxe8+,Kh7,Qxf7,gxh2+,Kh1', 'Qe4+,Qf3,Qxf3#', 'https://lichess.org/training/yz6tK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YZ6VY', 'Rapid', 'felipelourencojr', 1866, 'BlackCurtain', 1871, 'e4,c5,Nf3,Nc6,Nc3,e6,Bc4,a6,a3,b5,Ba2,Nge7,d4,cxd4,Nxd4,Qb6,Be3,Qc7,O-O,Nxd4,Qxd4,Nc6,Qd2,Be7,f3,O-O,Ne2,Bb7,Rad1,Rfd8,b4,a5,bxa5,Rxa5,Ng3,Rxa3,Bb3,Na5,Qf2,Nxb3,cxb3,Rxb3,Bb6,Qe5,Bxd8', 'Bc5,Bb6,Bxf2+', 'https://lichess.org/training/YZ6VY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YZ9IQ', 'Rapid', 'rp2005', 1601, 'Torunga', 1615, 'e4,c5,Nf3,e6,Nc3,d5,e5,d4,Ne4,b6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nc6,c3,dxc3,dxc3,Qc7,Nd6+,Bxd6,exd6,Qd7,Bf4,Rd8,Re1,Nf6,Ne5,Qxd6,g3,Qxd1,Raxd1,Nxe5,Bxe5,Ke7,Kg2,Rhg8,Bc7,Rxd1,Rxd1,Nd5,Be5,f6,Bf4,Nxf4+,gxf4,Rd8,Re1,Rd2,f5,Rxb2,a4,e5,Kg3,Rc2,Re3,Ra2,f4,Kd6,Rd3+,Kc6,fxe5,fxe5,Kg4,Rxa4+,Kg5,Ra3,Re3,Kd5', 'c4+,Kxc4,Rxa3', 'https://lichess.org/training/YZ9IQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yza19', 'Rapid', 'DenWalker', 1651, 'Lali', 1629, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,e6,Nf3,h6,Bc4,Bd6,Be3,Nf6,Qd2,O-O,O-O-O,Qe7,Bxh6,Nh7,Bd3,f5,Bg5,Qf7,h4,Nc6,Rdg1,Nb4,Bc4,b5,Bb3,a5,d5,a4,dxe6,Bxe6,Bxe6,Qxe6,Nd4,Nxa2+,Nxa2,Qxa2,c3,Nxg5,hxg5,Rae8,g6,Qa1+,Kc2,Qa2,Ra1,Qd5,Rh3,Qxg2,Rah1,Qe4+,Kc1,Qxh1+,Rxh1,Re4,Nc6,Bf4,Kc2,Bxd2,Kxd2,Rfe8,f3,Re2+,Kd3,R2e3+,Kd4,Rxf3,Kc5,b4,cxb4,Rf2,Kb5,Rxb2,Kxa4,Ra8+,Kb5,Re8,Rd1,f4,Ne7+,Kf8,Nd5,f3,Nxc7,Rbe2,Nxe8,Rxe8,Rf1,Re3,Kc6,Ke7,b5,Rc3+,Kb7,Kf6,b6,Kxg6,Ka7,Ra3+,Kb8,Kf7,b7,Ke7,Rd1,f2,Kc8,g5,b8=Q', 'Rc3+,Qc7+,Rxc7+,Kxc7,g4,Rf1,g3', 'https://lichess.org/training/Yza19');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yzCWP', 'Rapid', 'jack_healings', 2043, 'Mohmedjb', 2061, 'd4,c6,c4,d5,Nc3,Bf5,Nf3,h6,Bf4,Nf6,e3,e6,cxd5,cxd5,Bb5+,Nc6,a3,Bd6,Bg3,a6,Ba4,b5,Bc2,Na5,Bxf5,exf5,O-O,O-O,Qc2,Ne4,Rac1,Nc4,Bxd6,Qxd6,Rfd1,Rac8,Qe2,Qg6,Ne5,Nxe5,dxe5,Qe6,f3,Ng5,Nxd5', 'Rxc1,Rxc1,Qxd5', 'https://lichess.org/training/yzCWP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZCwy', 'Rapid', 'playsforfun44', 1936, 'theMortician', 1909, 'e4,e5,Nf3,Nc6,d4,exd4,c3,Nf6,e5,Nd5,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,d6,Bc4,Be6,O-O,O-O,Nc3,dxe5,dxe5,Nxc3,Qxc3,Bxc4,Qxc4,Qe7,Rfe1,h6,Re2,Rfe8,Rae1,Qe6,Qa4,a6,a3,Rad8,h3,Re7,Nh2,Qd5,f4,Qd4+,Qxd4,Nxd4,Rd2,Red7,Red1', 'Ne2+,Rxe2,Rxd1+', 'https://lichess.org/training/yZCwy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yzdb5', 'Rapid', 'Mazzarella97', 1802, 'altererbacher', 1800, 'e4,e5,Bc4,Bc5,Nf3,Nc6,c3,Nf6,d3,d6,Bb3,Bg4,h3,Bh5,Nbd2,O-O,Nf1,Kh8,Ng3,Bg6,O-O,Nh5,Nf5,Bxf5,exf5,Ng3,Re1,Nxf5,Bg5,f6,Be3,Nxe3,fxe3,f5,Kh1,f4,exf4,Rxf4,Re2,Qf6,Bd5,Rf8,a4,Ne7,Ba2,Rxf3,gxf3,Qxf3+,Rg2,Qxh3+,Rh2,Qg3', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/yzdb5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yzDIR', 'Blitz', 'vicegananda', 2098, 'heidlaus', 2091, 'e4,c6,d4,d5,e5,Bf5,Ne2,h6,Ng3,Bh7,Bd3,Bxd3,cxd3,e6,Be3,Bb4+,Nc3,Qa5,O-O,Bxc3,bxc3,Qxc3,Qg4,g6,Rab1,b6,Qe2,Ne7,Rfc1,Qa5,h4,Nf5,Nxf5,exf5,g4,fxg4,Qxg4,Nd7,e6,Nf6,exf7+,Kxf7,Qg3,Rac8,Bf4,b5,Be5,Qd8,Re1,Rf8,Re3,Kg7,Rf3,Kh7,Re1,Nh5,Rxf8,Qxf8,Qg4,Qf5,Qxf5,gxf5,Kg2,Re8,Kf3,Nf6,Rc1,Re6,Kf4,Kg6,Rg1+,Kf7,Kxf5,a5,Rg6,b4,Rxf6+', 'Rxf6+,Bxf6,a4,Be5,b3', 'https://lichess.org/training/yzDIR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YZdOi', 'Rapid', 'konnert', 1687, 'Salgirr', 1759, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Nf3,Bg4,h3,Bxf3,Qxf3,e6,Be3,Nc6,c3,Qb6,b3,Be7,Nd2,O-O-O,c4,Kb8,b4,Qxb4,c5,Qc3,O-O,Qxd3', 'Bf4+,e5,Qxd3', 'https://lichess.org/training/YZdOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yzdVD', 'Rapid', 'Roziu', 1730, 'shin92475', 1699, 'e4,c5,Nf3,b6,c3,Bb7,d3,e6,Bg5,Be7,Bxe7,Nxe7,Nbd2,O-O,d4,cxd4,cxd4,d5,e5,Nbc6,Bd3,Nf5,Bxf5,exf5,a3,f6,exf6,Qxf6,O-O,Nxd4,Nxd4,Qxd4,b4,f4,Nf3,Qe4,Re1,Qg6,Ne5,Qg5,Nf3,Qg6,Ne5,Qh6,Qf3,Qd6,Qb3,Kh8,Rad1,Rae8', 'Nf7+,Rxf7,Rxe8+', 'https://lichess.org/training/yzdVD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YZdVk', 'Blitz', 'Mahmoudtalaat', 1561, 'kingrulz', 1529, 'e4,e5,Nf3,Nf6,d3,Bc5,Nxe5,O-O,Bg5,d6,Bxf6,Qxf6,Nf3,Bg4,h3,Bxf3,Qxf3,Qxb2,Be2,Qxa1,O-O,Qxa2,Nc3,Qxc2,Nd5,Bb6,Ne7+,Kh8,Nf5,a6,Qg4,g6,Ng3,a5,h4,Nc6,h5,Ne5,Qg5,f6,Qh4,g5,Qh3,a4,h6,a3,Bd1,Qxd3,Be2,Qc3,Bf3,a2,Ne2,Qb2,Qe6,a1=Q,Qe7,Rg8', 'Qxf6+,Rg7,Qxg7#', 'https://lichess.org/training/YZdVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZDzS', 'Blitz', 'srikanth1416', 1629, 'FM Kotofeyca', 2310, 'd4,d5,c4,c6,Nf3,Nf6,Bg5,Ne4,Nc3,Nxg5,Nxg5,e5,Nf3,e4,Ne5,Be6,f3,exf3,Nxf3,Nd7,cxd5,cxd5,e3,Rc8,Bb5,a6,Ba4,Qa5,O-O,Bb4,Bxd7+,Bxd7,Ne5,Be6,Qf3,O-O,Ne2,f6,Ng4,Rc2,Ng3,Rxb2,h4,Rxa2,Rxa2,Qxa2,Nf5,Bxf5,Qxf5,Qc4,h5,Qc6,Qf3,Be7,Qg3,Kh8,h6,g6,Nf2,Qe6,Nh3,Bd6,Qf3,Kg8,Nf4,Bxf4,Qxf4,Re8,Rf3,f5,Qc7,Qe7,Qa5,Qd7,Qe1,Kf7,Qh4,Re6,Qf4,Qe7,Qg3,Re4,Qf2,Qh4,Qb2,Qxh6,Qxb7+,Kf6,Qb6+,Re6,Qd8+,Kf7,Qd7+,Kf6,Qd8+,Re7,Qd6+,Kf7', 'Rxf5+,gxf5,Qxh6', 'https://lichess.org/training/yZDzS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YZEMa', 'Rapid', 'churchofcoltrane', 2055, 'Baqdur', 1983, 'e4,f5,e5,d6,exd6,cxd6,d4,Nf6,Nc3,Nbd7,Bg5,g6,Nge2,Bg7,Nf4,h6,Ne6,Qb6,Nxg7+,Kf7,Bxf6,exf6,Bc4+,Kxg7,Nd5,Re8+,Kf1,Qxb2,Bb3,Re4,c3,Nb6,Ne3,Bd7,Rb1,Qxc3,Qf3,Bb5+,Kg1,Rae8', 'Nxf5+,gxf5,Qxc3', 'https://lichess.org/training/YZEMa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yzEtO', 'Rapid', 'skmeherajali', 1710, 'Fatemeh_0007', 1702, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nf6,Nxc3,Nc6,Nf3,Bc5,e5,Qe7,O-O,Ng8,Nd5,Qd8,Bg5,Nge7,Qb3,Na5,Nxc7+,Qxc7,Bxf7+,Kf8,Bxe7+,Kxe7,Qd5,Qc6,a3,Qxd5,Bxd5,Nc6,Rfc1,Bb6,b4,a6,Nh4,Rf8,Bf3,g5,Bxc6,dxc6,Nf3,h6,Rc2,Bf5,Rd2,Be4,Nd4,Rad8,Rad1,Rd7,Kh1,h5,f3,Bg6', 'Nxc6+,Ke8,Rxd7', 'https://lichess.org/training/yzEtO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZfRP', 'Classical', 'hossammhms', 1998, 'levdp18', 2110, 'c4,e5,Nc3,Bb4,Nd5,Ba5,b4,Bb6,c5,c6,Bb2,cxd5,Bxe5,Bc7', 'Bxg7,Nf6,Bxh8', 'https://lichess.org/training/yZfRP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZguq', 'Rapid', 'Sergey261176', 1658, 'Asmik', 1710, 'd4,d5,c4,dxc4,Nc3,Nf6,Bg5,e6,e3,Be7,Bxc4,O-O,Bd3,Nd5,Bxe7,Nxe7,Qh5,g6,Qg5,b6,Be4,c6,Nf3,Nd5,h4,f6,Qg3,f5,Bxd5,exd5,h5,f4,Qh2,g5,O-O-O,g4,Ne5,fxe3,fxe3,Nd7,Nxc6,Qg5,Qg3,Bb7,Ne5,Nxe5,dxe5,Rae8,Nb5,Rxe5,Kb1,Rxe3,Qc7,Re7,Qg3,Ba6,Nd4,Re3,Qc7,Bd3+,Ka1,Be2,Rde1,Re4,Nf3,gxf3,gxf3,Bxf3,Rxe4,Bxe4,Re1,Qxh5,Qg3+,Bg6,Qd6,Qh4,Qe6+,Bf7', 'Rg1+,Kh8,Qe5+,Qf6,Qxf6#', 'https://lichess.org/training/yZguq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YZHsW', 'Rapid', 'Loschoux', 2005, 'Artemkov', 1953, 'e4,c6,Nf3,d5,Nc3,h6,d4,Nf6,e5,Ne4,Bd3,Bf5,Ne2,e6,Ng3,Nxg3,fxg3,Bxd3,Qxd3,c5,c3,Nc6,O-O,Be7,a4,O-O,g4,Qb6,g5,cxd4,cxd4,Bxg5,Bxg5,hxg5,Rad1,g4', 'Ng5,Qxd4+,Qxd4,Nxd4,Rxd4', 'https://lichess.org/training/YZHsW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yzit7', 'Rapid', 'manatok', 1915, 'ygy004', 2020, 'b3,e5,Bb2,Nc6,e3,Bd6,f4,exf4,Bxg7,Qh4+,Ke2', 'Qg4+,Nf3,Qxg7', 'https://lichess.org/training/yzit7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZJs1', 'Rapid', 'BubbaBones', 1867, 'malejpstros', 1805, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,Nxd4,Nxd4,Qxd4,Bf6,e5,Qe7,f4,c5,Qc3,d6,O-O,dxe5,fxe5,Bxe5,Bxf7+,Kd8,Qd3+,Bd7,Nc3,Nf6,Nd5,Nxd5,Bxd5,Kc7,Rf7,Bd4+,Kf1,Rhf8,Bf4+,Kd8,Bg5', 'Rxf7+,Bxf7,Qxg5', 'https://lichess.org/training/yZJs1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YzkIz', 'Rapid', 'pov', 1667, 'Vrsaljko138', 1666, 'd4,c6,e4,d5,e5,Bf5,h3,e6,g4,Bg6,Nf3,h6,Nc3,Bb4,Bd2,Ne7,Qe2,O-O,O-O-O,Qa5,Kb1,c5,Be1,Nbc6,Qb5,Qxb5,Nxb5,Bxe1,Rxe1,Nxd4,Nfxd4,cxd4,Nxd4,Nc6,Nb5,a6,Nd6,f6,f4,fxe5,fxe5,Rf2,Re2,Raf8,Nxb7,Rxe2,Bxe2,Nxe5,Nc5,Rc8,Nxe6,Rxc2,Nf4,Be4,Bd3,Nxd3,Kxc2,Nf2+,Kd2,Nxh1,Ne6,Nf2,Nc5,a5,Ke3,Nxh3,Nb7,a4,Nc5,Kf7,Nxa4,g5,Nc5,Kg6,a4,Nf4,b4,Bc2,a5,Be4,a6,Kf6,a7,Ke5,a8=Q', 'd4+,Kd2,Bxa8', 'https://lichess.org/training/YzkIz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YZMpk', 'Rapid', 'Rahim69', 1864, 'realbohr', 1777, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,h3,c5,Bb5+,Nc6,O-O,a6,Re1+,Be7,Bxc6+,bxc6,dxc5,O-O,b4,a5,c3,axb4,cxb4,Ba6,Nd4,Bb7,a4,Ne4,Nd2,Nxf2,Kxf2,Bh4+,g3,Qf6+,N2f3,Bxg3+,Kxg3,Qg6+,Kh2,Rae8,Rg1,Qh5,Bf4,Bc8,Rg3,Re4,Bd6,Rfe8,Qg1,Re2+,Nxe2,Rxe2+,Kh1,Bxh3,Rxg7+,Kh8,Qg3', 'Bg2+,Kg1,Qh1#', 'https://lichess.org/training/YZMpk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZNHi', 'Rapid', 'Vagabond666', 1767, 'mjt348', 1689, 'e4,e6,d4,d5,e5,c5,c3,cxd4,Qa4+,Bd7,Qxd4,Nc6,Qe3,Nge7,Nf3,Nf5,Qf4,Be7,g3,h6,Bh3,Bg5,Nxg5,hxg5,Qg4,f6,f4,fxe5,fxg5,d4,g6,Ne3,Bxe3,dxe3,Bf1,Qb6,Qf3,O-O-O,b4,Nxb4,Na3,Qa5,cxb4,Qxa3,Qxe3,Qxb4+,Kf2,Qb2+,Be2,Rhf8+,Kg2,Bc6+,Kh3,Bxh1,Rxh1,Rh8+,Kg4,Qd4+,Qxd4,Rxd4+,Kf3,Rf8+,Kg2,Rd2,Re1,Rxa2,Kh3,Rh8+,Kg4,Ra4+,Kg5,Rxh2,Bg4,Ra5,Bxe6+,Kb8,Re3,Ra6,Bd5,Rh6,Bf7,Kc7,Rxe5,Kd7,g4,Rb6,Rd5+,Kc6,Re5,Kd6,Rd5+,Kc6,Re5,Rb5', 'Be8+,Kd6,Rxb5', 'https://lichess.org/training/yZNHi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YZphi', 'Rapid', 'zekiseyyah', 2252, 'FM Crazy_Eight', 2378, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Be2,O-O,Qd2,d5,Nxc6,bxc6,e5,Nd7,f4,e6,g4,c5,Bf2,Rb8,b3,Qa5,h4,Nxe5,fxe5,Bxe5,O-O-O', 'Bxc3,Qxc3,Qxc3', 'https://lichess.org/training/YZphi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZPy5', 'Rapid', 'EstebanFGM', 1699, 'dario2994', 1604, 'e4,c5,c3,Nc6,Nf3,Nf6,e5,Ng4,d4,cxd4,cxd4,d6,h3,Nh6,Bb5,Bd7,O-O,a6,Ba4,b5,Bb3,e6,d5,exd5,Bxd5,Rc8,exd6,Bf5,Re1+,Be6,Bxe6,fxe6,Rxe6+,Kd7,Re1,Bxd6,Bf4,Kc7,Bxd6+,Qxd6,Nbd2,Nb4,Rc1+,Kb7,Rxc8,Rxc8,Qb3,Rc2,Re6,Rc1+,Nf1,Qc5,Re5,Qd6,a3,Nc6,Re6,Qd7,Qe3,Qd1,Nd2,Nf5,Qe4,Qxd2,Qxf5,Qd1,Qf7+,Kb6,Qe8,Qxf1+,Kh2,Qxf2,Qb8+,Ka5,Qc7+,Qb6', 'b4+,Ka4,Qxb6', 'https://lichess.org/training/yZPy5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZQFh', 'Blitz', 'IM MannySen', 2431, 'NM esrosenberg', 2284, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,a6,Bb3,Ba7,Nbd2,d6,h3,h6,Nf1,O-O,Ng3,Re8,O-O,Be6,Bc2,Ne7,d4,exd4,Nxd4,Qd7,Nxe6,Qxe6,Re1,Qe5,Qf3,Ng6,Nf5,d5,Ng3,Rad8,Bd2,dxe4,Nxe4,Nxe4,Rxe4,Rxd2,Rxe5,Nxe5,Qxb7', 'Bxf2+,Kh1,Rxc2', 'https://lichess.org/training/yZQFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YZrkF', 'Blitz', 'Lexar114', 1884, 'Michel60', 1898, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,d5,Bb5,Ne4,Nxd4,Bc5,Nxc6,Bxf2+,Kf1,bxc6,Bxc6+,Kf8,Qxd5,Ba6+,c4,Bb6,Qxe4', 'Qd1+,Qe1,Bxc4#', 'https://lichess.org/training/YZrkF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZs41', 'Rapid', 'Nivag78', 1695, 'joselu91', 1685, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Be2,Bf5,Nf3,Nc6,a3,a6,h3,e6,Bf4,Bd6,Be5,Bxe5,dxe5,Nd7,O-O,O-O,Bd3,Bxd3,Qxd3,Ndxe5,Nxe5,Nxe5,Qg3,Ng6,Rad1,Rc8,Rd2,Qf6,Re1,Rfd8,Na4,Rc4,b3,Rf4,Nc5,b6,Nxa6,Rf5,Red1,Rg5,Qe3,Nf4,g4,h5,Qg3,hxg4,hxg4,Qg6,f3,Nh5,Qh2,f5,Rg2,fxg4,fxg4,Rxg4,Rd2,Nf4', 'Qxf4,Rxf4,Rxg6', 'https://lichess.org/training/yZs41');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YZt0z', 'Classical', 'sbkale', 1847, 'Nalawadeganesh', 1719, 'g4,d5,Bg2,Bxg4,Nc3,e6,d4,Bb4,Bd2,Nf6,a3,Bxc3,Bxc3,Nc6,f3,Bf5,Qd2,h6,h4,Qd7,e3,a6,b3,h5,Bb2,Bg6,Ne2,Qd6,O-O-O,O-O-O,Nc3,e5,Na4,exd4,exd4,Nd7,Rhe1,Rhe8,Bh3,Rxe1,Rxe1,f5,Qg5,Qf6,Qxf6,Nxf6,Nc5,Re8,Rxe8+,Nxe8,Ne6,Kd7', 'Nf8+,Kd8,Nxg6', 'https://lichess.org/training/YZt0z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZTUu', 'Rapid', 'Iskander_Fatih', 1775, 'sarthakmanna', 1761, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,d6,Ne2,Be6,Bxe6,fxe6,O-O,O-O,Ng3,Nc6,c3,a5,a3,d5,Bg5,Qd7,Kh2,dxe4,Bxf6,Rxf6,Nxe4,Rg6,Nxc5,Qd5,Ne4,Ne7,b4,axb4,cxb4,Rf8,Nbc3,Qc6,Qb3,b6,Rac1,Qb7,Nb5,c6,Nbd6,Qd7,Nc4,Qd4,a4,Nd5,b5,Nf4,bxc6,Rxg2+,Kh1,Rg6,Nxb6,Nxh3,c7,Nxf2+,Rxf2,Rh6+,Kg1,Rg6+,Kf1,Rxf2+,Nxf2,Rf6,c8=Q+,Kf7,Rc7+,Kg6,Qe8+,Kh6,Rc2,Qa1+,Ke2,Qg1,Kd2,Qxf2+,Kc3,Qd4+,Kd2,Rf2+,Ke1', 'Qe3+,Kd1,Rf1#', 'https://lichess.org/training/yZTUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZUkW', 'Blitz', 'Esviju', 1720, 'elvergalindaa', 1712, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,d6,Be3,Bb6,Bb3,Bg4,h3,Bh5,Nbd2,a5,Re1,a4,Bxa4,Bxf3,Nxf3,Bxe3,Rxe3,Ne7,Bc2,Nh5,Nh2,Nf4,Rg3,Kh8,Ng4,f5,exf5,Nxf5,Rf3,Nh4,Rg3,Qe8,d4,Qf7,dxe5,dxe5,Nxe5,Nxh3+,Rxh3', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/yZUkW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Yzurf', 'Blitz', 'zainnunli', 1515, 'ampr', 1515, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bb4,Nd5,Nxd5,exd5,Nd4,Nxd4,exd4,O-O,O-O,c3,dxc3,dxc3,a6,Bd3,Bc5,Qh5,h6,Bxh6,Qf6,Be3,g6,Qh6,Bd6,Bd4,Be5,Rfe1,Bxd4,cxd4,Qxd4,Re3,d6,Rg3,Qg7,Qc1,Bd7,Qxc7,Rac8,Qxd7,Qxb2,Rf1,Rc3,Rxg6+,fxg6,Bxg6', 'Qxf2+,Rxf2,Rc1+,Rf1,Rfxf1#', 'https://lichess.org/training/Yzurf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yzvda', 'Rapid', 'FloatingSignifier', 1694, 'carlos4roman', 1806, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bg5,Be7,Bd3,Nxe4,Bxe7,Qxe7,Bxe4,Nf6,Bd3,b6,O-O,Bb7,c3,O-O,Bc2,Nd5,Qd3,g6,Rae1,Nf4,Qe3,Nd5,Qh6,Qf6,Ne5,Rad8,Re4,Ne7,Rf4,Qg7,Qh3,f5,Kh1,Nd5,Rh4,Nf6,Bd1,h5,Bf3,Bxf3,Qxf3,g5,Rxh5,Nxh5,Qxh5,Rf6,f4,g4,g3,Rh6,Qg5,Qxg5,fxg5,Rh7,g6,Rg7,Kg2,Kf8,Kf2,Ke7,Ke3,Kf6,Kf4,Rxg6,Nxg6,Kxg6,Re1,Kf6,Re2,Rh8,Ke3,Re8,Kd3,Rd8,Kc4,Rd5,Kb4,a5+,Kc4,b5+,Kd3,c5,b3,cxd4,cxd4,e5,Rxe5,Rxe5,dxe5+,Kxe5,Ke3,a4,bxa4,bxa4,a3,Kd5,Kf4', 'Kc4,Kxf5,Kb3,Kxg4,Kxa3', 'https://lichess.org/training/yzvda');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YZwfi', 'Rapid', 'Pasta78', 1902, 'Kratos_Chess', 1896, 'd4,g6,Nf3,Bg7,Bg5,d5,e3,Nf6,h3,O-O,Bd3,Nbd7,O-O,b6,c3,c5,Nbd2,c4,Bc2,Bb7,a4,a6,Re1,b5,axb5,axb5,Rxa8,Qxa8,Qa1,h6,Bf4,Nh5,Bh2,Qxa1,Rxa1,Ra8,Rxa8+,Bxa8,b4,Nhf6,Ne5,Nxe5,Bxe5,Nd7,Bxg7,Kxg7,Nf3,f6,Nh4,f5,g4,e6,Kh2,Nf6,Kg3,Bc6,f3,g5,Ng2,fxg4,fxg4,Bd7,Ne1,Bc6,Nf3,Nd7,h4,Kf6,hxg5+,hxg5,Nd2,e5,dxe5+,Nxe5,Nf3', 'Nxf3,Kxf3,d4+', 'https://lichess.org/training/YZwfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yZwii', 'Rapid', 'k5kenduz5k', 1687, 'adomas26', 1717, 'e4,e5,Nf3,Nc6,d3,h6,Nc3,Nf6,h3,Bc5,Be2,O-O,O-O,d6,Na4,Bb4,c3,Ba5,b4,Bb6,Nxb6,axb6,a4,Be6,b5,Na5,c4,Qe7,Nh2,Nd7,Ng4,Nc5,Ne3,Ncb3,Ra2,Nd4,Nf5,Nxf5,exf5,Bxf5,Bf3,e4,dxe4,Bxe4,Be2,Qe6,Qd4,Qg6,f3,Nb3', 'Qxe4,Qxe4,fxe4,Nxc1,Rxc1', 'https://lichess.org/training/yZwii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('yzWo0', 'Classical', 'Voidx', 1794, 'Ichuck', 1842, 'e4,e5,Nf3,d6,Bc4,h6,c3,Bg4,h3,Bh5,d4,Nc6,d5,Nb8,Nbd2,Nf6,Qb3,a6,Qa4+,Nbd7,Be2,Be7,O-O,O-O,c4,Nc5,Qc2,Bg6,Bd3,Nxd3,Qxd3,Nh5,g3,Qc8,Kh2,f5,Qe3,f4,gxf4,Nxf4,Ng1,Bg5,Qg3,Nh5,Qg4,Bf4+,Kh1,Qe8,Qe6+,Kh8,Ngf3,Nf6,Nh4,Bxe4+,Nxe4,Nxe4,Ng6+,Kh7,Nxf8+,Qxf8,Bxf4', 'Qxf4,Qg4,Nxf2+,Rxf2,Qxf2', 'https://lichess.org/training/yzWo0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('YzYPa', 'Blitz', 'FM NoDrawNow', 2603, 'norba94', 2274, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,O-O-O,O-O,Nf6,Nbd2,Nxd4,Nxd4,Qxd4,c3,Bxe2,Qxe2,Qd3,Qe5,e6,Nf3,Bd6,Qa5,a6,Be3,Qb5,Qxb5,axb5,Nd4,c6,a4,bxa4,Rxa4,Kc7,Rfa1,Be5,Nb3,Nd5,Bc5,Bd6,Ra7,Rb8,g3,Rhd8,f4,Bxc5+,Nxc5,Kb6,Nb3,Ne3,Kf2,Nc4,R7a2,Nd2,Nd4,Ne4+,Ke3,Nd6,Ra4,c5,Nf3,f6,g4,Kc6,Ra7,Nb5,R7a2,Nc7,Kf2,Nd5,Kg3,Ne3,Re1,Rd3,h3,Re8,Kf2,Nd5,f5,e5,Ng1,Nf4,Re3,Red8,Ra1,Rd2+,Kf3,Rxb2,h4,Rdd2,g5,Rf2+,Ke4,Rfd2,gxf6,gxf6,Kf3,Rh2,Rd1,Rbd2,Ra1,Rdg2,Ke4,Rf2,Nf3,Rh3,Rg1,Ng2', 'Nxe5+,fxe5,Rxh3,Re2+,Kf3', 'https://lichess.org/training/YzYPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z01SV', 'Classical', 'r-voronezh', 1805, 'vladimir1993k', 1849, 'c4,c5,e4,Nc6,Nc3,g6,Nf3,Bg7,Bd3,Nd4,Bb1,d6,b3,Bg4,Bb2,Nxf3+,gxf3,Bh5,a3,Qd7,h3,Nf6,b4,O-O,Bc2,cxb4,axb4,Ne8,d4,Qe6,Nd5,a6,Nb6,f5,Nxa8,fxe4,d5,exf3+,Kf1', 'Qe2+,Qxe2,fxe2+,Ke1,Bxb2', 'https://lichess.org/training/Z01SV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z031b', 'Blitz', 'scoreman', 2117, 'Nimzozo', 2204, 'd4,Nf6,Nf3,g6,c4,Bg7,g3,d6,Bg2,O-O,O-O,Nc6,Nc3,a6,e4,Bd7,d5,Na5,Nd2,c5,Rb1,b5,b3,Rb8,Qc2,e5,Ne2,bxc4,Nxc4,Nxc4,bxc4,Rxb1,Qxb1,Qc7,Bd2,Rb8,Qc2,Qb6,Bc3,h5,Nc1,h4,Nb3,Ba4,Rb1,Nd7,Bh3,Bh6,Qe2,Qd8,Qg4,Qg5,Qxg5,Bxg5,Nd2,Rxb1+,Nxb1,Nb6,Bf1,Bc2,Ba5,Bxb1,Bxb6,Bxe4,Bc7,Be7,f4,exf4,gxf4,Kg7,Kf2,Kf6,Ke3,Kf5,Ba5,Bb1', 'Bh3+,Kf6,Bc3#', 'https://lichess.org/training/Z031b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z07hD', 'Classical', 'austen_1', 1813, 'Luis1111', 1774, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,a6,Be2,Nc6,d5,Ne5,O-O,Nf6,Nxe5,Nxe4,Nd3,O-O,Nd2,Nf6,Bf3,Qa5,Qb3,d6,Nc4,Qd8,Nb6,Rb8,Nxc8,Qxc8,Bg5,Qf5,Bxf6,Qxf6,Rac1,b5,Rc7,a5,Ra7,a4,Qb4,Qf5,Ne1,Rfe8,Ra5,Qb1,Rxb5,Rxb5,Qxb5,Rc8,Nd3,Qxa2,Qd7,Rc2,Nb4,Qxb2,Nxc2,Qxc2,Bd1,Qd3,Qxe7,a3,Qxd6,a2,Qb8+,Bf8,Ba4', 'Qxf1+,Kxf1,a1=Q+', 'https://lichess.org/training/Z07hD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z09Yi', 'Rapid', 'Tartuffes', 1856, 'maguvite', 1883, 'e4,e5,Nf3,Nc6,Bb5,d6,Ba4,Bd7,O-O,Nf6,Re1,Be7,c3,a6,d4,b5,Bc2,O-O,d5,Nb8,b3,Ne8,Nbd2,g6,Nf1,f5,Bh6,Ng7,exf5,gxf5,Bxg7,Kxg7,Ng3,c5,c4,e4,Nd2,Bf6,Nh5+,Kh8,Nxf6,Qxf6,Qh5,Be8,Qh3,Nd7,Nf1,Rg8,Ng3,Bg6,Nxe4,fxe4,Qxd7,Bf5,Qc7,Rg7,Qa5,Rag8,g3,bxc4,Bxe4,Bh3,bxc4,Rf8,Qd2,Rgf7,f3,Bf5,Bxf5,Qxf5,f4,h5,Rab1,h4,Re3,Qxb1+,Kg2,Rg7,Qc3,Rxf4,Re8+,Kh7,Re1,Qe4+,Rxe4,Rxe4,Qd3,Re7,Kh3,hxg3,hxg3,Kg7,Qc3+,Kg6,Qc2,Kg5,Qd2+,Re3,Qc1,Re4,Kg2', 'Kg4,Qd1+,Re2+', 'https://lichess.org/training/Z09Yi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z0ayc', 'Rapid', 'trezini', 1823, 'jores', 1910, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,c4,Nbd2,Nge7,b3,cxb3,Nxb3,Na5,Nxa5,Qxa5,Bd2,Nf5,Bd3,Bd7,O-O,Rc8,Bxf5,exf5,c4,Qa6,cxd5,Bb5,Re1,g6,Bb4,Bg7,e6,Qb6,exf7+,Kxf7,Ng5+,Kg8,d6,Qxd4,Qb3+,Bc4,Qf3,Bd5,Qh3,h6,Rad1,Qc4,d7,hxg5,dxc8=Q+,Qxc8,Qe3,Be4,Qxg5,Qc7,h3,Kf7,Rxe4,fxe4,Qd5+,Kf6,Qxe4,Rd8,Qh4+,g5,Qg4,Rxd1+,Qxd1,Kg6,Qd3+,Kh6,g3,a5,Bd2,b6,h4,Bf6,a4,Qe5,Qb3,Qa1+,Kg2,Qd4,hxg5+,Bxg5,Qe6+,Kh5,Qf7+,Kh6,Qe6+,Kh5,Bxg5,Kxg5,f4+,Kh5,g4+,Kh4,Qh6+,Kxg4', 'Qg5#', 'https://lichess.org/training/Z0ayc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z0g5z', 'Blitz', 'IM gmtalentoso', 2433, 'Dgironchess', 2336, 'e4,c5,Nf3,d6,Bb5+,Nc6,O-O,Bd7,Re1,a6,Bf1,Nf6,c3,Bg4,h3,Bxf3,Qxf3,e6,Qd1,Be7,d4,cxd4,cxd4,O-O,Nc3,Rc8,Be3,d5,e5,Ne4,Nxe4,dxe4,Qg4,Re8,Qxe4,Nb4,a3,Nd5,Rac1,b5,Rxc8,Qxc8,Bd3,g6,h4,Bf8,h5,Bg7,h6,Bf8,Rc1,Qd7,g3,Nxe3,Qxe3,Rd8,Bf1,Qxd4,Qxd4,Rxd4,Rc6,Bxh6,Rxa6,Bc1,b3,Bb2,Ra5,Rd2,Rxb5,Bd4,Bg2,Bxf2+,Kh2,Bd4,a4,Ra2,a5,Bc3,b4,Bxb4,Rxb4,Rxa5,Re4,Kg7,Kh3,f5,exf6+,Kxf6,Kg4,h5+,Kf4,g5+,Kf3,Ra3+,Kf2,Ra2+,Kf3', 'g4+,Ke3,Rxg2', 'https://lichess.org/training/Z0g5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z0Gd8', 'Rapid', 'wowk', 1704, 'Toscani', 1782, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,Bb4,Bd3,Qa5,Bd2,O-O,O-O,d5,a3,Bxc3,Bxc3,Qc7,exd5,Nxd5,Bd2,Bg4,Be4,Rad8,Qe2,Nd4,Qd1,Nf6,Re1,Nxe4,Rxe4,Bxf3,gxf3,Nxf3+,Qxf3,Rxd2,c3,Rxb2,Rg4,Qc6,Qg3,Qf6,Kg2,Rc8,Rg1,Rxc3,Qxc3', 'Qxf2+,Kh3,Qxh2#', 'https://lichess.org/training/Z0Gd8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z0gyF', 'Rapid', 'Robyarchitetto', 1829, 'hristo111', 2069, 'e4,c5,b3,Nc6,Bb2,e6,Bb5,d5,Bxc6+,bxc6,exd5,cxd5,Nf3,Nf6,O-O,Be7,h3,O-O,d4,cxd4,Nxd4,Ba6,Re1,Qd7,Nc3,Rac8,Na4,Rfd8,Rc1,Ne4,Qf3,Nc5,Qg4,Nxa4,Nxe6,fxe6', 'Qxg7#', 'https://lichess.org/training/z0gyF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z0iHD', 'Rapid', 'Egy-SniPer', 1971, 'Aftc123', 1868, 'Nf3,c5,e4,d6,Bb5+,Bd7,Qe2,a6,Bxd7+,Nxd7,O-O,e6,c4,Ngf6,Nc3,Be7,d3,O-O,Bg5,Rb8,a4,h6,Be3,Nh7,a5,Ndf6,h3,Qc7,Rae1,Rfd8,Ra1,d5,cxd5,exd5,exd5,Nxd5,Nxd5,Rxd5,d4,c4,Rfc1,Rxa5,Rxa5,Qxa5,Qxc4,Nf6,Ne5,Qd5,Qc7,Bd6,Qxb8+', 'Bxb8,Rc8+,Kh7', 'https://lichess.org/training/z0iHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z0Jls', 'Blitz', 'Emka077', 1736, 'WilliamShakespeare', 1598, 'e4,e5,Nc3,Bc5,g3,Nc6,Bg2,Nf6,Nge2,O-O,O-O,d6,h3,Be6,Nd5,Nd4,d3,Nxe2+,Qxe2,c6,Nc3,d5,Bg5,dxe4,Nxe4,Be7,Qf3,Nd5,Bxe7,Qxe7,c4,Nf6,Ng5,Rad8,Rad1,h6,Nxe6,Qxe6,Qe3,Rfe8,Kh2,Nd7,b3,f5,f4,exf4,Qxf4,Qe5,Qxf5,Qxf5,Rxf5,Re2,a4,Rde8,d4,R8e3,d5,cxd5,Rfxd5,Nb6,R5d3,Rxd3,Rxd3,Rb2,h4,g5,hxg5,hxg5,Kh3,Kg7,Bxb7,a5,Bc6,Nc8,Bd5,Nd6,c5,Nf5,c6,Rc2,Bc4,Ne3,Rd7+,Kf6,c7', 'g4+,Kh4,Rh2#', 'https://lichess.org/training/Z0Jls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z0Ktt', 'Rapid', 'alquimista51', 1960, 'phlegethon_m', 1872, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bc4,Be6,Bxe6,fxe6,Nf3,Nbd7,O-O,Bd6,Be3,a6,Ng5,Ke7,Nf3,b5,a3,c5,Rad1,b4,axb4,cxb4,Na4,Nxe4,Ng5,Nef6,Rd2,h6,Nf3,Nd5,Re1,g5,Rde2,Rac8,h3,Rhg8,Nh2,h5,Nf3,g4,hxg4,hxg4,Nd2,N7f6,Nf1,Rh8,g3,Rh5,Nb6,Rch8,Nxd5+,exd5,Bd2,Ne4,Be3,Ng5,Bxg5+,Rxg5,Ra1,Ra8,Ra5,Ke6,f4,gxf3,Rd2,e4,Kf2,Bc7,Ra1,Bb6+,Ne3,Ke5', 'Rxd5+,Kf6,Rd6+,Kg7,Rxb6', 'https://lichess.org/training/Z0Ktt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z0mFa', 'Rapid', 'ponchic2018', 1714, 'amaueter', 1640, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Nc6,c3,Bh4+,Kf1,Nf6,Nxh4,Nxe4,Nf3,d5,Bb3,Bg4,d3,Nc5,Bxf4,O-O,Bc2,Ne6,Bg3,Re8,Nbd2,Ng5,h3,Bh5,Bh4,Qf6,g4,Qf4,Bxg5,Qg3,gxh5,Ne5,Bh4,Qf4,d4,Nc4,Nxc4,dxc4,Bg5,Qg3,h6,g6,Bf6,Re3,Ne5', 'Qf4+,Qf3,Rxf3+,Nxf3,Qxf3+', 'https://lichess.org/training/Z0mFa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z0qgL', 'Rapid', 'yunasta', 1655, 'wgmbridget', 1719, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,h6,O-O,d6,Bf4,Be7,Re1,Nf6,e5,dxe5,Nxe5,Nxe5,Bxe5,O-O,f4,c5,c3,dxc3,Nxc3,Re8,Bxf6,Bxf6,Qxd8,Rxd8,Nd5,Bd4+,Kf1,Be6,Ne7+,Kf8,Bxe6,fxe6,Rxe6,Kf7,Rae1,Rd7,Nf5,Bxb2,R1e2,Bf6,g4,c4,Nd6+,Kg6,Nxc4,b5', 'Ne5+,Kh7,Nxd7', 'https://lichess.org/training/z0qgL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z0scG', 'Rapid', 'katil', 1644, 'amaisi', 1631, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,Bg4,Bb5+,Nc6,Qd3,a6,Bxc6+,bxc6,Ne5,Bd7,O-O,e6,f4,Bd6,Bd2,c5,Rae1,cxd4,Qxd4,Rc8,f5', 'Bc5,Qxc5,Rxc5', 'https://lichess.org/training/z0scG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z0TrR', 'Classical', 'Opie1', 1867, 'Braintastic', 1689, 'd4,b6,e4,Bb7,Nd2,d5,exd5,Qxd5,Ngf3,Nc6,Bc4,Qh5,c3,e5,d5,Na5,Bb5+,c6,dxc6,Bxc6,Qa4,Ne7,Nc4,e4,Nxa5,Bxb5,Qxe4,Rb8,Bf4,Rd8,Nb7', 'Bc6,Qe3,Bxb7', 'https://lichess.org/training/z0TrR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z0Twl', 'Classical', 'bosskhela', 2097, 'Vena', 1972, 'e4,c5,Nf3,d6,c3,e6,d4,cxd4,cxd4,a6,Bd3,Ne7,Nc3,Ng6,a3,Be7,O-O,Bd7,Re1,b5,Be3,Bc8,e5,d5,b4,Nd7,Rc1,Nb6,Nd2,O-O,Bxg6,hxg6,Qg4,Bd7,Ne2,Kh7,Qh3+,Kg8,Qg4,Kh7,Ng3,Rh8,Nf3,Kg8,Bg5,Nc4,Bxe7,Qxe7,Ra1,Rf8,Ne2,Be8,Nf4,Qb7,Nd3,f5,exf6,Rxf6,Qg3,Qe7,Nc5,a5,Ng5,Rh5,Ngxe6,Rhf5,Nc7,Qf7,Rxe8+,Kh7,Rae1,g5,R1e7,Qh5,Qd3,Nb2,N5e6,Nxd3', 'Rxg7+,Kh6,Rh8#', 'https://lichess.org/training/Z0Twl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z0vCV', 'Classical', 'Marcel222', 1795, 'BeckerShalan', 1825, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bg5,Be7,Bb5+,c6,Be2,Bd6,Nc3,Be6,O-O,h6,Bh4,Nbd7,Re1,Qb6,Na4,Qa5,c3,b5,b4', 'Qxa4,Qxa4,bxa4', 'https://lichess.org/training/Z0vCV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z0Wwz', 'Blitz', 'IM MichaelBarron', 2383, 'Pomolango_123', 2066, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nf6,Nxe5,Nxe5,d4,c6,Be2,Bxd4,Qxd4,d6,Bg5,O-O,f4,c5,Qd1,Ng6,Nc3,h6,Bxf6,Qxf6,Nd5,Qxb2,f5,Ne5,Ne7+,Kh7,Qxd6,Qd4+,Qxd4,cxd4,Rab1,Re8,Nd5,Nc6,Bd3,Rb8,Nc7,Re7,Na6', 'bxa6,Rxb8,Nxb8', 'https://lichess.org/training/Z0Wwz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z0X4y', 'Blitz', 'Lobsy', 2170, 'kingkong20', 2187, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,e4,e5,d5,d6,Be2,a5,Bg5,Na6,Nd2,Nc5,O-O,h6,Be3,b6,f3,Nh5,b3,f5,a3,Nf4,Bxf4,exf4,Rc1,Qg5,b4,axb4,axb4,Nd7,exf5,Rxf5,Bd3,Bd4+,Kh1,Re5,Nde4,Qh5,Ne2', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/z0X4y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z0XCL', 'Classical', 'Vstar220', 1635, 'Tania-koroleva', 1679, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,c5,d3,e6,Nf3,Nf6,O-O,Bd6,Re1,O-O,Be3,Nc6,Nb5,Ne5,Nxe5,Bxe5,Bxc5,b6,Ba3,Bc7,Nxc7,Qxc7,Bxf8,Kxf8,Qf3,Bb7,Qg3,Qc6,Rad1,b5,Bb3,Rd8,Re3,Rd4,Qg5', 'Rg4,Qxg4,Nxg4', 'https://lichess.org/training/Z0XCL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z0zPS', 'Blitz', 'tsabeg', 1766, 'Caietan', 1655, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,Re1,O-O,c3,d6,d4,exd4,cxd4,a6,a3,b5,Bb3,Bb7,Bc2,Nb8,Qd3,Re8,e5,dxe5,Nxe5,c5,b3,Qxd4,Qf5,Qxa1,Nd2,Qd4,Ndf3,Qc3,Bg5,Bxf3,Nxf3,Nbd7,Bxf6,Bxf6', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/z0zPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z0zVe', 'Rapid', 'KiwiGeorge', 1638, 'CALNALPV', 1650, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,cxd4,cxd4,Nc6,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/z0zVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z10Wu', 'Rapid', 'greygo', 1940, 'tolib', 1910, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Bb4,Be3,Bxc3+,bxc3,Nf6,Bd3,O-O,O-O,d5,Bg5,h6,Bh4,g5,Nxc6,bxc6,e5,gxh4,exf6,Qxf6,Qg4+,Qg5,Qa4,h3,g3,Qf6,Qg4+,Kh8,Qxh3,e5,Qg2,e4,Be2,Qxc3,f3,Qxc2,fxe4,Qxe4,Bf3,Qd4+,Kh1,Bg4,Bxg4,Qxg4,Rf4,Qe6,Raf1,Rab8,Qc2,Rb6,Qa4,a6', 'Qd4+,f6,Qxb6', 'https://lichess.org/training/Z10Wu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z18TI', 'Classical', 'nikitavelikieluki', 1790, 'jarib79', 1774, 'e4,c5,d4,cxd4,c3,d3,Bxd3,Nc6,Be3,d6,Ne2,Nf6,Bg5,e6,Nd2,Be7,Qb1,e5,f4,O-O,f5,a6,Qc2,Ng4,Bxe7,Qxe7,Nf1,Qh4+,g3,Qg5,Qd2,Qxd2+,Nxd2,Ne3,Nf1,Nxf1,Rxf1,b5,Kd2,Bb7,b4,Rac8,g4,Nb8,h4,Nd7,g5,f6,Rac1,Nb6,Rg1,Nc4+,Bxc4+,bxc4,Ke3,d5,Ng3,dxe4,Nxe4,Rcd8,Rcd1,fxg5,Rxd8,Rxd8,Nc5,Bc8,hxg5,Bxf5,Rc1,Rd6,Ke2,Rg6,a4,Bc8,Ne4,Kf7,Ke3,Bb7,Rf1+,Ke7,Nc5,Bc8,Rg1,h6,Ke4,hxg5,Kxe5,g4,Re1,Rg5+', 'Kf4+,Kf6,Ne4+,Kg6,Nxg5', 'https://lichess.org/training/z18TI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z1Ae5', 'Rapid', 'Lucre53', 1818, 'mohsen43', 1873, 'd4,Nf6,c4,d5,Nc3,dxc4,e4,e6,Bxc4,Nc6,Nf3,Bd6,e5,O-O,exd6,cxd6,O-O,Ne7,Bg5,Ng6,Ne4,d5,Nxf6+,gxf6,Bh6,dxc4,Bxf8,Qxf8,Rc1,Bd7,Qe2,Bc6,Rfd1,Qg7,Qe3,Rd8,Rxc4,Rd5,Rc5,Rd7,b4,a6,a3,e5,Rcc1,Nf4,g3,Nd5,Qb3,Qg4,Rxc6,bxc6,dxe5,f5,Kh1,h5,Rd4,f4,gxf4', 'Nxf4,Rxf4,Qxf4', 'https://lichess.org/training/Z1Ae5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z1aHJ', 'Blitz', 'zedofgod', 1766, 'Soulstormer', 1777, 'e4,e5,f4,Bc5,Nf3,d6,d4,exd4,Nxd4,Nc6,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Nf6,e5,dxe5,Qxd8+,Kxd8,fxe5,Nd7,Nc3,Nxe5,O-O-O+,Ke7', 'Nd5+,Kd8,Nb6+,Bd7,Nxa8', 'https://lichess.org/training/z1aHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z1bAi', 'Rapid', 'Abdi_Blunder', 1786, 'Lutupi', 1857, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nf3,g6,Nc3,Bg7,Bb5,a6,Ba4,b5,Bb3,Bb7,O-O,Rc8,Bf4,e5,Qd5,Qe7,Bg5,Nf6,Bxf6,Bxf6,Rad1,Na5,Qd3,Nxb3,axb3,Bc6,Ne2,O-O,Ng3,Rfd8,Qe3,d5,exd5,Rxd5,Qh6,Bg7,Qh3,Rxd1', 'Qxc8+,Rd8,Qxc6', 'https://lichess.org/training/Z1bAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z1bfe', 'Rapid', 'Fingerek', 1820, 'Charlie44', 1832, 'e4,e5,Bc4,Nf6,d3,h6,a3,Bc5,h3,O-O,Ne2,d5,exd5,Nxd5,O-O,c6,Nbc3,Be6,Ne4,Bb6,N2g3,Nd7,Kh1,Nc5,b4,Nxe4,Nxe4,Bd4,Rb1,f5,Nc5,Bxc5,Bxd5,Bxd5,bxc5,Qh4,f3,e4,c4,Be6,Rxb7,exd3,Qxd3,f4,Qc3,Rf6,Qe1,Qh5,Bb2,Rg6,Rxg7+,Rxg7,Bxg7,Bxh3,Qe5,Bxg2+,Kxg2,Qg6+,Kf2,Qxg7', 'Rg1,Qxg1+,Kxg1', 'https://lichess.org/training/Z1bfe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z1Ckc', 'Rapid', 'SwimTheElba', 1555, 'vlianza', 1521, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nde2,Bg4,O-O,Nbd7,h3,Bh5,f4,exf4,Bxf4,Nc5,Nd5,Nxd5,exd5,Qb6,Kh2,Qxb2,g4,Bg6,Bxg6,hxg6,Ng3,O-O-O,Rf2,f5,gxf5,Qf6,Be3,Qh4,Qf1,g5,f6,gxf6,Nf5,Qh5,Bxc5,dxc5,Rd1,Bd6+,Nxd6+,Rxd6,Re2,Re8,Qf5+,Kd8,Re6,Qxd1', 'Rxd6+,Kc7,Qd7+,Kb8,Qxe8+', 'https://lichess.org/training/Z1Ckc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z1DwI', 'Blitz', 'chelovek-sh', 1774, 'Jimi911', 1863, 'e4,e5,Bc4,Nc6,Ne2,Nf6,d3,Bc5,O-O,O-O,Nbc3,d6,Bg5,h6,Bh4,Be6,Nd5,Bxd5,Bxd5,Nd4,Nxd4,Bxd4,c3,Bb6,Kh1,c6,Bb3,Qe7,f4,exf4,Rxf4,g5,Rxf6,Qxf6,Bg3,Rad8,Qe2,Qg7,Rf1,Rd7,d4,Kh8,Qh5,d5,e5,Bd8,Bc2,f5,Rxf5,Rxf5,Bxf5,Rf7,Bd3,Qf8,h3,Bc7,e6,Rf1+,Bxf1', 'Qxf1+,Kh2,Bxg3+,Kxg3,Qf4#', 'https://lichess.org/training/z1DwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z1EJy', 'Rapid', 'Lexa2101', 1662, 'CrapCrusher', 1838, 'e4,c5,a3,e6,d3,Nc6,c3,d5,Qf3,dxe4,Qxe4,Nf6,Qe2,h6,h3,Bd6,Nf3,Qc7,Be3,b6,d4,O-O,Nbd2,cxd4,Nxd4,Nxd4,Bxd4,e5,Be3,a5,O-O-O,Ba6,Qf3,Bxa3,Bxa6', 'Qxc3+,Kb1,Qxb2#', 'https://lichess.org/training/Z1EJy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z1gAz', 'Blitz', 'chessanoss', 1729, 'teking', 1674, 'e4,c5,Nf3,d6,d4,cxd4,Bc4,Nf6,c3,dxc3,Qb3,e6,O-O,cxb2,Bxb2,Be7,e5,dxe5,Nxe5,Nbd7,Nxf7,Kxf7,Bxe6+,Kf8,Rd1,Qb6,Qh3,Qxb2,Nd2,g6,Qh6+,Ke8,Qg7,Rf8,Nc4,Qc3,Rac1,Qb4,Bxd7+,Bxd7,Ne5,Rd8,Rc7,Bd6,Nxd7,Rxd7,Rc8+,Rd8,Rdc1,Bc5,R8xc5,Qxc5', 'Re1+,Ne4,Rxe4+,Qe7,Rxe7#', 'https://lichess.org/training/Z1gAz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z1igX', 'Rapid', 'malygrzes77', 1693, 'yemptyhead', 1698, 'e4,c5,Nf3,e6,Nc3,g6,d4,cxd4,Qxd4,Nf6,Bb5,Bg7,g4,O-O,Bg5,Nxg4,Qxg7+,Kxg7,Bxd8,Rxd8,O-O-O,a6,Rhg1,Nxf2,Rdf1,Nxe4,Nxe4,axb5,Nd6,Rxa2,Kb1,Ra6,Ne4,d5,Neg5,Nc6,Nh4,Ne7', 'Rxf7+,Kg8,Rxe7', 'https://lichess.org/training/Z1igX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z1kAC', 'Rapid', 'pomarola13', 1900, 'AkaBiru1417', 1974, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e6,Be3,b5,Be2,Bb7,Qd2,Be7,g4,Nc6,O-O-O,Nxd4,Bxd4,Rc8,Kb1,b4,Na4,Qa5,b3,Bd8,h4,Bc6,Nb2,e5,Be3,Be7,h5,Bxe4,fxe4', 'Nxe4,Qd3,Nc3+', 'https://lichess.org/training/z1kAC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z1KqW', 'Rapid', 'Johnjohn821', 1889, 'NaotoMatsui', 1979, 'd4,Nf6,Nf3,g6,e3,Bg7,Bd3,d5,b3,c5,Bb2,Nc6,a3,Ne4,Nbd2,cxd4,exd4,Bf5,O-O,O-O,Ne5,Nxe5,dxe5,Rc8,f4', 'Qb6+,Kh1,Nf2+', 'https://lichess.org/training/Z1KqW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z1L8B', 'Rapid', 'Abdrov', 1793, 'vikips', 1791, 'e4,e5,f4,Nc6,Nf3,d6,Nc3,Bg4,Bc4,Nf6,O-O,Nd4,Be2,Be7,d3,Nxf3+,Bxf3,Bxf3,Qxf3,exf4,Bxf4,O-O,Rae1,c6,e5,dxe5,Bxe5,Nd5,Ne4,f6,Bg3,Nb4,d4,Nxc2', 'Qb3+,Kh8,Qxc2', 'https://lichess.org/training/z1L8B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z1QI4', 'Rapid', 'Khan9', 1646, 'yetj', 1605, 'e4,e5,Nf3,Qf6,Bc4,Bc5,Nc3,d6,Na4,Be6,Nxc5,dxc5,Bb5+,c6,Be2,Nd7,O-O,Rd8,c4,Ne7,Qb3,b6,Qa3,a5,d3,O-O', 'Bg5,Qg6,Bxe7', 'https://lichess.org/training/Z1QI4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z1vHa', 'Rapid', 'IvanAsen', 1945, 'Volga-21', 1778, 'e4,e5,f4,d5,exd5,exf4,Nf3,Bg4,Be2,Bxf3,Bxf3,Bc5,d4,Qe7+,Be2,Bb6,Bxf4,Nf6,c4,Qb4+,Nc3,O-O,O-O,c5,dxc5,Bxc5+,Kh1,Qxb2,Na4,Qd4,Qc2,Ne4,h3,Nf2+,Kh2,Qxf4+,g3,Qh6,Nxc5', 'Qxh3+,Kg1,Qxg3#', 'https://lichess.org/training/Z1vHa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z1xTp', 'Classical', 'bobby70', 1742, 'hasan1156', 1776, 'e4,e5,d4,Nf6,dxe5,Nxe4,Nf3,Bc5,Nd4,O-O,Bd3,Qh4,Be3,Nxf2,Bxf2,Qf4,O-O,Bxd4,c3,Bxe5,Bg3,Qe3+,Bf2,Qh6,h3,d6,Qf3,Nd7,Nd2,Qxd2,Rab1,Nf6,Rfd1,Qf4,Qe2,Qh2+,Kf1,Qh1+,Bg1,Bh2,Qf2,Nd5,Ke2,Re8+,Kd2,Bf4+,Kc2,Ne3+,Kb3,Nxd1,Rxd1,Be3,Qh4,Be6+,c4,h6,Qe4,Bxc4+,Qxc4,Bxg1,Rf1,Re7,Be4,Rae8,Bg6,Re3+,Ka4,b5+,Kxb5,c6+,Ka6,Qxg2', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/z1xTp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z1Zr0', 'Rapid', 'Psycho-17', 1867, 'Manguel', 1768, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,Bxc6,bxc6,Nxe5,Bb7,d4,Ba7,Nc3,O-O,Bg5,d5,Ng4,dxe4,Nxf6+,gxf6,Be3,f5,Qh5,Qf6,Rad1,Qg6,Qh3,Bb8,f3,c5,d5,c6,fxe4,fxe4,Bh6,Re8,Rf4,Bxf4,Bxf4,cxd5,Nxd5,Rad8', 'Ne7+,Rxe7,Rxd8+', 'https://lichess.org/training/Z1Zr0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z20UN', 'Blitz', 'talsfan456', 1637, 'carino90', 1674, 'e4,c5,Nf3,d6,Be2,e6,O-O,Be7,d4,Nf6,dxc5,dxc5,Qe1,O-O,Nc3,Nc6,Be3,b6,Rd1,Qc7,g3,Bb7,Bf4,Qc8,Bd3,Rd8,Ng5,h6,Nf3,Nh5,Be3,a6,Ne2,Qc7,Nf4,Nxf4,Bxf4,Bd6,Nh4,Bxf4,gxf4,Qxf4,Ng2,Qg5,Kh1,h5,Rg1,h4,f4,Qf6,e5,Qh6,Qe3,Nd4,Rd2,h3,Be4,hxg2+,Rdxg2,Nf5,Qe1,Bxe4,Qxe4,Rd4,Qxa8+,Kh7,Qxa6,Rxf4,Qxb6,Rh4,Qxc5', 'Ng3+,Rxg3,Rxh2#', 'https://lichess.org/training/z20UN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z23iC', 'Rapid', 'wesamok', 1916, 'opqopq', 2020, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Nc6,d4,Nf6,h3,Bf5,Nc3,e6,a3,Be7,Be3,O-O,g4,Be4,f3,Bg6,g5,Nd7,h4,a6,Bd3,b5,b4,Rc8,Qd2,Qc7,Nge2,Nb6,h5,Bxd3,Qxd3,Nc4,h6,g6,Bf4,Bd6,Rh4,Rfd8,Rg4,Bxf4,Rxf4,e5,dxe5,Qxe5,Rg4,Qh2,O-O-O,N6e5,Qd4,Re8,f4,Nxa3,fxe5,Qxe5,Qxe5,Rxe5,Rxd5,Rxd5,Nxd5,Rxc2+,Kd1,Rb2,Rd4,Kf8,Nf6,Rb1+,Nc1,Nc4,Re4,Nd6,Nd7+,Kg8,Rd4,Nc4,Nf6+,Kf8,Re4,Nd6,Nd7+,Kg8,Kc2', 'Rxc1+,Kxc1,Nxe4', 'https://lichess.org/training/Z23iC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2714', 'Classical', 'Reszo', 1934, 'kathlene', 1918, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Bd7,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nc3,Qxe5,Re1,Qc7,Nxd5,Qd8,Bf4,Ne7', 'Nc7+,Qxc7,Bxc7', 'https://lichess.org/training/z2714');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2Eao', 'Classical', 'oidicle', 1694, 'Dominik_Jentsch', 1811, 'd4,d5,c4,dxc4,Nc3,Nc6,Nf3,Bg4,Bf4,Bxf3,gxf3,Nxd4,e3,Ne6,Bxc4,Nxf4,exf4,e6,Qd2,Qxd2+,Kxd2,Rd8+,Kc2,Bb4,Ne4,Be7,Rad1,Nf6,Ng3,O-O,Rhe1,h6,f5,Bb4,Re2,Rxd1,Kxd1,Rd8+,Kc2,Nd5,fxe6,fxe6,Rxe6,c6,a3,Bc5,Re2,b5,Bb3,a5,Re6,Rc8', 'Rxc6,Rxc6,Bxd5+,Kf8,Bxc6', 'https://lichess.org/training/z2Eao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2HS0', 'Classical', 'bou7a1994', 1949, 'sharkeatingdonkeys', 1948, 'Nf3,Nf6,d4,g6,Nc3,d5,g3,Bg7,Bg2,Nbd7,Ne5,e6,Bg5,b6,e4,h6,exd5,hxg5,Nxd7,Bxd7,dxe6,Bxe6,Bxa8,Qxa8,O-O,Bh3,Re1+,Kf8,d5,Ng4,Qd2,Qd8,Rad1,Be5,Re2,Qf6,f3,Bd4+', 'Qxd4,Qxd4+,Rxd4', 'https://lichess.org/training/z2HS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2iee', 'Rapid', 'vincam', 1689, 'Sweep105', 1719, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bg5,e6,Bb5,Be7,Qd2,Bd7,O-O-O,O-O,Nf3,Qc7,a3,h6,Bf4,a6,Bd3,e5,Bxh6,Ng4,Bg5,Bxg5,Nxg5,Nd4,f3,Nf6,h4,Rac8,h5,Nh7,h6,g6,Nxh7,Kxh7,Nd5', 'Nb3+,Kb1,Nxd2+', 'https://lichess.org/training/z2iee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z2Jl5', 'Classical', 'sk182', 1710, 'Kasaso', 1622, 'd4,d5,c4,dxc4,Nc3,e6,Bf4,Nc6,e3,a6,Bxc4,Nb4,Nf3,Nf6,a3,Nbd5,Nxd5,exd5,Bb3,c6,O-O,Bg4,h3,Bf5,Re1,Be7,Bc2,Bxc2,Qxc2,Ne4,Nd2,Nxd2,Qxd2,O-O,b4,Kh8,e4,g5,Be5+,f6,Bh2,Rg8,e5,Rg6,exf6,Bxf6,Be5,Bxe5,Rxe5,Qf6,Rae1,Rag8,Qe3,g4,Rh5,gxh3,g3,h2+,Rxh2,Qg7,Kh1,Rf8,Qe5,Qxe5,dxe5,Rg5,Kg2,h5,f4,Rxf4,e6,Re4', 'Rxe4,dxe4,e7,Rg8,Rxh5+', 'https://lichess.org/training/Z2Jl5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2jLV', 'Classical', 'Kivpanth', 1649, 'musfiq1', 1636, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,bxc6,O-O,Bg7,c3,d6,d3,Nf6,Bg5,O-O,Bxf6,Bxf6,Nbd2,Qc7,a3,d5,Qe2,e6,exd5,cxd5,Rab1,Ba6,c4,d4,b3,Rab8,a4,Rb7,Ne4,Bg7,Rb2,Rfb8,Rfb1,f5,Neg5,e5,Ne6,Qe7,Nxg7,e4,Nxf5,gxf5,dxe4,fxe4,Nd2,e3,fxe3,dxe3,Nf3,Rd8,Re1,Re8,Rd1,Qg7,Rd3,Rbe7,Rb1,Bb7,Re1,Bxf3,Qxf3,e2,Qg3,Qxg3,Rxg3+,Kh8,Rf3,Rd8,Kf2,Rd2,Rf8+,Kg7,Rc8,Rf7+,Ke3,Rb2,Rxe2,Rxb3+,Kd2,Rb2+,Kd3', 'Rd7+,Ke3,Re7+', 'https://lichess.org/training/z2jLV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z2KCF', 'Rapid', 'virgiliodiniz', 2030, 'mansouri95', 2040, 'e4,f5,exf5,Nf6,Be2,h5,Nf3,d5,Nh4,e5,Ng6,Rh6,O-O,Bxf5,Nxf8,Kxf8,d4,e4,Bxh6,gxh6,Bxh5,Qe7,Nc3,c6,f3,Nbd7,fxe4,Bxe4,Nxe4,Qxe4,Qf3,Qxd4+,Kh1,Ke7,Rae1+,Kd6,Bf7,Rf8,Qg3+,Kc5,c3,Qa4,b4+,Kb6,Re7,Ne4,Qe3+,Kc7,Qf4+,Kd8,Qh4,Ng5,Rxd7+,Kxd7,Qxh6', 'Rxf7,Rxf7+,Nxf7', 'https://lichess.org/training/Z2KCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2KTc', 'Classical', 'WoWfunny123', 1976, 'invachess90', 1907, 'd4,d5,c4,Nf6,Nc3,e6,Nf3,c5,e3,Nc6,a3,cxd4,exd4,Be7,c5,Ne4,Bb5,O-O,O-O,f5,Bxc6,bxc6,Ne5,Qc7,f4,Rb8,Rf3,Bf6,Rh3,Bxe5,fxe5,Ba6,Qh5,g6,Qd1,Qa5,Nxe4,fxe4,b4,Rxb4', 'Bd2,Rxd4,Bxa5,Rxd1+,Rxd1', 'https://lichess.org/training/z2KTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z2La3', 'Classical', 'theBarkman', 1634, 'Sylvio-Black', 1609, 'd4,d5,c4,e6,Nc3,Bb4,Bd2,c6,Nf3,Nf6,a3,Bxc3,Bxc3,Ne4,Bd2,Nxd2,Qxd2,O-O,e3,Bd7,Ne5,dxc4,Bxc4,b5,Bd3,Bc8,b4,Nd7,Nxc6,Qe8,Bxb5,a6,Ba4', 'Nb6,Bd1,Qxc6', 'https://lichess.org/training/Z2La3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2MPM', 'Blitz', 'tigery2', 1700, 'grecollo', 1688, 'e4,e5,Bc4,c6,d3,b5,Bb3,a5,c3,a4,Bc2,Bd6,Be3,Nf6,h3,O-O,Nd2,Ba6,Ne2,b4,c4,a3,Bb3,c5,bxa3,bxa3,Nc3,Nc6,Nd5,Nxd5,exd5,Nb4,Ne4,Qc7,O-O,Rab8,Kh1,Be7,d6,Bxd6,Qd2,Bb7,Nxd6,Qxd6,Rad1,Qg6,f4,exf4,Bxc5,Nxd3,Bxf8,Rxf8,Bc2,Bxg2+,Qxg2,Qxg2+,Kxg2,Nb2,Rxd7,Nxc4,Kf3,Ne3,Rf2,Nxc2,Rxc2,g5,Rcc7,Kg7,Ra7,Rc8,Rxf7+,Kg6,Rfe7,Rc3+,Kg2,h5,Ra6+,Kf5,Rb7,Rc2+,Kf3', 'g4+,hxg4+,hxg4#', 'https://lichess.org/training/z2MPM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z2mvR', 'Blitz', 'urto070', 1769, 'sladrask', 1805, 'e3,c5,Ne2,e6,Ng3,Nf6,Be2,d5,Bf3,Nc6,O-O,Bd6,d3,b5,Nd2,Bb7,b3,O-O,Bb2,Ne5,a3,Qc7,Be2,Ng6,c4,bxc4,dxc4,Be5,Bxe5,Qxe5,cxd5,Bxd5,Nc4,Qb8,Rb1,Ne4,Nxe4,Bxe4,Ra1,Ne5,Nxe5,Qxe5,Bf3,Rab8,Bxe4,Qxe4,Rb1,Rb6,Qd7,Rfb8,Qxa7,Rxb3', 'Qxb8+,Rxb8,Rxb8#', 'https://lichess.org/training/Z2mvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z2nB6', 'Rapid', 'Bilal_Rachdad', 1964, 'doash', 2053, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,h3,e5,Nb3,Nc6,Bc4,b5,Bd3,Be6,Be3,Be7,a3,O-O,Qd2,b4,axb4,Nxb4,Nc1,d5,exd5,Nfxd5,Ne4,Rc8,c3,Nxe3,Qxe3,Nxd3+,Nxd3,Qd5,O-O,f5,Nd2,f4,Qxe5,Qxd3,Qxe6+,Kh8,Qxe7,Qxd2,b4,f3,Rad1,Qxc3,Rc1,Qd3,Rxc8,Rxc8,Qb7', 'Qxf1+,Kxf1,Rc1#', 'https://lichess.org/training/Z2nB6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z2Obw', 'Classical', 'Bezumnii', 1661, 'DglPlayz', 1667, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,O-O,Bg4,d3,Bd6,Bg5,O-O,Nbd2,Kh8,Qe1,Qd7,Bxf6,gxf6,a3,f5,b4,f4,h3,Bxh3,gxh3,Rg8+,Kh2,Rg6,Rg1,Rh6,h4,Be7,Nxe5', 'Rxh4+,Kg2,Qh3#', 'https://lichess.org/training/Z2Obw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z2oxO', 'Rapid', 'KasrraIIX', 2091, 'elos63', 2126, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,Ngf6,Bf4,Qa5+,Bd2,Qc7,O-O-O,e6,Ne4,Nxe4,Qxe4,Nf6,Qe2,O-O-O,Kb1,Bd6,g3,Kb8,c4,Qe7,Ba5,Bc7,Bxc7+,Qxc7,Ne5,Rhe8,Rd3,Qe7,Rhd1,Kc8,Ra3,Kb8,Rdd3,Qc7,c5,Nd5,Rdb3,Ka8,Nc4,Kb8,Nd6,Rxd6,cxd6,Qxd6,Qa6,Qc7,Qxa7+,Kc8,Qa8+,Kd7,Qxb7,Rc8,Ra7,Kd6,Qa6,Qd8,Qa3+,c5,dxc5+,Ke5,Re3+,Kf6,Rf3+,Kg5,Qd3,Rxc5,Qd2+,Kg4,Rf4+,Kh3,f3', 'Nc3+,bxc3,Qxd2', 'https://lichess.org/training/Z2oxO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2Qdt', 'Classical', 'E_N_S', 1825, 'casicasicasi', 1894, 'e4,e6,d4,d5,Nc3,Bb4,exd5,Bxc3+,bxc3,exd5,Ba3,Ne7,Qe2,Be6,O-O-O,O-O,f4,Nbc6,Re1,Re8,Nf3,Bg4,h3,Bxf3,Qxf3,Ng6,Rxe8+,Qxe8,Bb5,Nxd4,Bxe8,Nxf3,Bd7,Nfh4,g3,Rd8,Bg4,Ng2,Rd1,Ne3,Rd3,Nxg4,hxg4,c6,Re3,Nf8,Re7,Rb8,Bd6,Rd8,Bb4,Rb8,f5,g6,Kd2,Kg7,c4,dxc4,Bc3+,Kg8,Be5,Rd8+,Kc3,Nd7', 'Bc7,Nb6,Bxd8', 'https://lichess.org/training/z2Qdt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2tFn', 'Rapid', 'TheNextGalileo', 2072, 'xerxes123', 1924, 'e4,e5,Nc3,Bb4,Nd5,Bc5,b4,Bb6,Nxb6,axb6,Bb2,d6,f4,exf4,Nf3,Nf6,Bd3,O-O,O-O,Bg4,Qe1,Re8,Qh4,Bxf3,Rxf3,Nc6,Rxf4,Ne5,Raf1,Rxa2,Bc3,Ng6,Qg3,Nh5,Qg4,Nhxf4,Rxf4,d5,exd5,Qxd5', 'Bc4,Qxc4,Rxc4', 'https://lichess.org/training/z2tFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2UKT', 'Bullet', 'Emrah56', 1802, 'EvgenRomanov', 1905, 'c4,Nf6,Nc3,g6,d4,Bg7,e4,O-O,e5,Ne8,Bg5,d6,exd6,cxd6,Nf3,Nc7,Bd3,Ne6,Be3,Nd7,Qd2,a6,Bh6,Qc7,Bxg7,Nxg7,h4,h5,Ng5,Nb6,b3,Bf5,Bxf5,Nxf5,O-O-O,e5,d5,a5,f3,a4,g4,Ng7,gxh5,Nxh5,Nce4,axb3,axb3,Ra1+,Kb2,Rxd1,Rxd1,Ra8,Ra1', 'Nxc4+,bxc4,Qb6+,Kc2,Rxa1', 'https://lichess.org/training/z2UKT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2vvQ', 'Blitz', 'chonksty', 1622, 'Qelixi', 1674, 'e4,e5,Nf3,d5,d3,dxe4,Nxe5,f6,Qh5+,Ke7,Qf7+,Kd6,Nc4+,Kc6,Na5+,Kb6,Qc4,Kxa5,b4+,Kb6,Qc5+,Bxc5,bxc5+,Kxc5,Nc3,Kd6,Ba3+,Kd7,Rd1,Qe8', 'dxe4+,Kc6,Bb5+,Kb6,Bxe8', 'https://lichess.org/training/z2vvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2WG3', 'Classical', 'Saha-Serhio', 1841, 'clsi', 1775, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nc3,Nc6,Nf3,Bc5,d3,Qe7,Be2,Bg4,O-O,O-O,Nh4,Be6,Re1,Qd7,Nf3,a6,a3,Rad8,Bg5,Bd4,Nxd4,Qxd4,Qc2,h6,Be3,Qd7,Rad1,Nd4,Bxd4,Qxd4,Ne4,Nh7,Kh1,f5,Qc3', 'fxe4,Qxd4,Rxd4', 'https://lichess.org/training/z2WG3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z2wOf', 'Rapid', 'G147117281-massar', 1876, 'Skyallfire', 1930, 'e4,e5,g3,Bc5,Bg2,Nc6,Nf3,Nf6,Nc3,O-O,O-O,h6,d3,d6,Be3,Bb6,Qd2,Be6,Nh4,Ng4,h3,Nxe3,fxe3,Kh7,d4,exd4,exd4,Bxd4+,Kh1,Bxc3,Qxc3,Ne5,Nf5,Bxf5,exf5,f6,Bxb7,Rb8,Bg2,Qd7,g4,Rfe8,b3,Rb6,a4,Reb8,a5,Rb4,Qg3,c6,Qh4,Kg8,Rad1,d5,c4,Rxb3,cxd5,cxd5', 'Bxd5+,Kh8,Bxb3', 'https://lichess.org/training/z2wOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z2yMU', 'Rapid', 'ham1234567', 1786, 'NikPol666', 1760, 'd4,g6,c4,Bg7,Nc3,b6,Nf3,Bb7,e4,e6,Be3,d6,Bd3,Ne7,Qc2,Nbc6,O-O,Nb4,Qa4+,Nec6,d5,exd5,cxd5,Nxd3,dxc6,Bc8,Qb5,Nc5,Rfd1,O-O,Bxc5,bxc5,Na4,Qe7,Re1,Re8,Rad1,Qe6,Ng5,Qg4,Nf3,Rxe4,Nc3,Rxe1+,Rxe1,Be6,Qb7,Rc8,Qxa7,Qc4,Qb7,Bxc3,bxc3,Qxa2,Ng5,Kg7', 'Nxe6+,fxe6,Qxc8', 'https://lichess.org/training/Z2yMU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z30uD', 'Rapid', 'ErolErdem23', 2031, 'K1ngzy', 2089, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,Ng5,d5,exd5,Qe7+,Qe2,Qxe2+,Kxe2,Nb4,Bb3,h6,Nf3,Nbxd5,Re1,Be7,Nxd4,c5,Ba4+,Bd7,Bxd7+,Kxd7,Nf5,Bf8,Kf1,g6,Ne3,Bg7,Rd1,Kc6,Na3,Nxe3+,Bxe3,Ng4,Bf4,g5,Bg3,Rad8,c3,h5,h3,h4,Rxd8,Rxd8,Bxh4,Nh2+,Kg1,Nf3+,gxf3,gxh4,Nc4,b5,Ne3,Rd2,Rb1,b4,cxb4,cxb4,Rc1+,Kb5,Nc4', 'Bxb2,Nxd2,Bxc1', 'https://lichess.org/training/z30uD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z32h0', 'Classical', 'Prbr', 1841, 'St0l3nMyDr32ms', 1826, 'e4,c5,Nf3,Nc6,Be2,e6,c3,d5,e5,f6,d4,cxd4,cxd4,fxe5,Nxe5,Bd6,Bf4,Nf6,Bh5+,Nxh5', 'Qxh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/z32h0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z36l8', 'Blitz', 'Billardtisch', 2007, 'AlphaBrainDiff', 1640, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,g6,f3,Bg7,Be3,O-O,a5,Nc6,Nxc6,bxc6,Qd2,Rb8,b3,Bb7,Bh6,c5,Bxg7,Kxg7,Bc4,e6,O-O,d5,Bd3,dxe4,fxe4,Nxe4', 'Nxe4,Bxe4,Qc3+,Qd4+,Qxd4+,cxd4,Bxe4', 'https://lichess.org/training/z36l8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z383m', 'Classical', 'palet_master', 1714, 'DumbMaster', 1733, 'e4,c5,Nf3,Nc6,Bb5,Qc7,Nc3,e6,O-O,a6,Bxc6,Qxc6,d4,Nf6,Ne5,Qc7,Be3,d6,Nc4,cxd4,Qxd4,d5,exd5,exd5,Nxd5', 'Nxd5,Qxd5,Be6', 'https://lichess.org/training/Z383m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z395y', 'Rapid', 'SmittyWerbenXD', 1817, 'O-paulino', 1731, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,cxd6,d5,g6,Nf3,Bg7,Bd2,Bf5,Nc3,N8d7,b3,Nc5,Rc1,Bd3,Be3,Bxf1,Kxf1,O-O,Qd2,Bxc3,Qxc3,Ne4,Qd4,f5,Bh6,Rf7,Ng5,Nxg5,Bxg5,Nd7,h4,h5,f3,Rc8,Ke2,b5,Rcg1,bxc4,bxc4,Ne5,Rc1,Qa5,Rc2,Qb4,Rhc1,Nd7,Rb2,Qa5,g4,fxg4,fxg4,Nf6,gxh5,Nxh5,Qd3,Kh7,Rg1,Qc5,Rg4', 'Qf2+,Kd1,Qxb2', 'https://lichess.org/training/Z395y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z39oQ', 'Classical', 'Owltech', 1687, 'Innominato', 1744, 'd4,d5,g3,Nf6,Bg2,Nc6,Nf3,Bg4,O-O,e6,a3,Bd6,b4,O-O,Nc3,a6,Bf4,Bxf4,gxf4,Nh5,Ne5,Bf5,Nxc6,bxc6,e4,dxe4,Qxh5,Qxd4,Ne2,Qd2,Ng3,Bg6,Qe2,Qxf4,Bxe4,Bxe4,Qxe4,Qg5,Qxc6,h5,Kh1,h4,Ne4,Qg4,Rg1', 'Qf3+,Rg2,h3,Nf6+,Qxf6', 'https://lichess.org/training/Z39oQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z39uF', 'Blitz', 'GrumpyAlpaca', 1595, 'Abou123', 1608, 'e4,c5,c3,e6,d4,d5,dxc5,Bxc5,exd5,exd5,Nf3,Be6,Bb5+,Nc6,O-O,Nf6,Bg5,Be7,Na3,O-O,Qd2,Ne4,Bxe7,Qxe7,Qe3,Qf6,Rac1,a6,Bd3,Nd6,b3,Nf5,Qb6,Rab8,Nc2,Nfe7,Ncd4,Nxd4,Qxd4,Qxd4,Nxd4,Bd7,Rfe1,Ng6,g3,Rfe8,h4,Ne5,Bf1,Bg4,Re3,Ng6,Rce1,Rxe3,Rxe3,Kf8,f3,Bd7,f4,Ne7,Bd3,g6,Kf2,Nf5,Re5,Nxd4,cxd4,Bc6,Ke3,Re8,Kf3,Rxe5,dxe5,Ke7,Ke3,f6,exf6+,Kxf6,Kd4,h5,Be2,Bb5,Bxb5', 'axb5,Kxd5,Kf5,a3,Kg4,Ke5,Kxg3,f5,gxf5', 'https://lichess.org/training/z39uF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z3atw', 'Blitz', 'ViniciusRian', 2044, 'Youngpaulmorphy', 1999, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nf6,Be3,d6,Bc4,O-O,Qd2,Re8,O-O-O,Nc6,f3,Bd7,Kb1,Rc8,Bb3,a6,Nxc6,Rxc6,Bh6,Bh8,h4,Qa5,h5,Nxh5,g4,Nf6,Bg5,Rec8,Bxf6,Bxf6,Qh6,Rxc3', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/Z3atw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z3bq6', 'Rapid', 'KaiKucky', 1955, 'momo_klaus', 1975, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,Na5,Bd3,d6,dxe5,dxe5,Nxe5,Nf6,O-O,O-O,Nf3,Bg4,h3,Bh5,e5,Nd7,Bxh7+,Kh8,Be4,Nxe5', 'Qxd8,Raxd8,Nxe5', 'https://lichess.org/training/Z3bq6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z3CrW', 'Blitz', 'Prateek_5183', 1738, 'TamaraTamarovna', 1831, 'e4,c5,Bc4,e6,a3,a6,d3,d6,h3,Nf6,Nc3,Be7,Nce2,b5,Ba2,Bb7,Ng3,Nbd7,Nf3,Qc7,Nh2,Rc8,c3,O-O,O-O,Rfe8,Nh5,Ne5,Nxf6+,Bxf6,Ng4,Nxg4,Qxg4,d5,exd5,Bxd5,Bb1,Qc6,d4,cxd4,cxd4,Qc4,Be3,Qb3,Be4,Bxe4,Qxe4,Qxb2,Qb7,Bxd4,Rad1,Bxe3,fxe3,Qxa3,Qxf7+,Kh8,Rd7,Qxe3+,Kh1,Rg8,Re7,Rc1', 'Qxg8+,Kxg8,Re8#', 'https://lichess.org/training/Z3CrW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z3FEP', 'Rapid', 'reichenbacher', 1963, 'dnipro1972', 2006, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Nf3,d5,Be2,c5,O-O,Nc6,dxc5,dxc4,Bxc4,Bxc5,Na4,Be7,b3,Qc7,Bb2,b6,Rc1,Bb7,Nc3,a6,a4,Rfd8,Qe2,Rd7,Rfd1,Rxd1+,Rxd1,Na5,Rc1,Nxc4,Qxc4,Qxc4,bxc4,Bxf3,gxf3,Rd8,Rc2,Bc5,Kf1,Kf8,Ke2,Ke7,h3,Bb4,Na2,Ba5,e4,g6,Ba3+,Kd7,Nb4,Bxb4,Bxb4,Kc6', 'Be7,Re8,Bxf6', 'https://lichess.org/training/z3FEP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z3i1h', 'Blitz', 'Kholpilova', 2157, 'eadpiszeri', 1987, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nxe5,d4,Qe7,dxc5,Qxc5,Be3,Qb4,Qd2,Qxb2,Rb1,Qa3,Be2,Nf6,h3,O-O,f4,Nc6,O-O,a6,e5,Ne8,Nd5,d6,Rb3,Qxa2,Qc3,Qa4,exd6,Be6,Ra1,Qe4,Bf3,Qg6,dxc7,Bxd5,Bxd5,Nxc7,Bf3,Nb5,Qc5,Rac8,Qb6,Qxc2,Rab1,Rb8,R1b2,Qg6,Qc5,Rfd8,f5,Qf6,Rf2,Ncd4,Rb4,Nxf3+,Rxf3,Rd1+,Kf2,Rbd8,Rg4,Qb2+,Kg3,a5,f6,g6,Qg5,Qa3,h4,Qd6+,Bf4,Qf8,h5,R8d5,Qh4,Kh8,hxg6,fxg6,Bh6,Qf7,Bg7+,Kg8,Rc4,Rd8', 'Qxh7+,Kxh7,Rh4+,Kg8,Rh8#', 'https://lichess.org/training/Z3i1h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z3i4K', 'Rapid', 'amks', 1717, 'jonnyban', 1682, 'd4,d5,Nf3,Bg4,Nc3,e6,Bg5,Be7,Bf4,a6,e3,Nf6,h3,Bh5,g4,Bg6,Nh4,Ne4,Nxg6,fxg6,Nxe4,dxe4,Bg2,Qd5,c3,O-O,Qc2,c6,Bxe4,Qb5,Bd3,Qd5,O-O-O,Qxa2,h4,Qa1+,Kd2,Qa5,h5,g5,Bxh7+,Kh8,Be5', 'Rxf2+,Kd3,Rxc2', 'https://lichess.org/training/Z3i4K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z3Ktg', 'Rapid', 'kit1', 1848, 'jst007', 1835, 'd4,Nf6,c4,d5,Nf3,c6,Nc3,Nbd7,Bf4,e6,e3,Qa5,a3,Ne4,Qc2,Ndf6,b4', 'Bxb4,axb4,Qxa1+', 'https://lichess.org/training/z3Ktg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z3lZP', 'Rapid', 'sonofvenus', 1642, 'noumea52', 2018, 'e4,c5,Nf3,Nf6,d4,cxd4,e5,Ne4,Qxd4,d5,Nc3,e6,Nxe4,dxe4,Qxe4,Nc6,Bb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/Z3lZP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z3NrI', 'Rapid', 'Guner_szgn', 1727, 'Asteroid-7', 1679, 'g3,e5,Bg2,Nf6,d3,h6,c3,d5,Nf3,Nc6,Qa4,Bd6,Nfd2,Bd7,Qb3,Na5,Qc2,Nc6,b4,a6,Qb3,Ne7,a4,Be6,c4,dxc4,dxc4,b5,Bxa8,Qxa8,O-O,O-O,axb5,Bh3,Nf3,Bxf1,Kxf1,e4,Rxa6,Qc8,Nd4,Qh3+,Ke1,Qxh2,Qe3,Qg1+,Kd2,Bxb4+,Kc2,c6,bxc6,Bc5,Ba3,Nf5,Bb2,Rd8,Qf4,Nxd4+,Bxd4,Bxd4,e3,Bc5,c7,Qd1+,Kb2,Rd2+,Nxd2,Qxd2+,Kb1,Qd1+,Kb2,Qd2+,Kb3', 'Qb4+,Ka2,Qxc4+', 'https://lichess.org/training/Z3NrI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z3oZa', 'Blitz', 'DoDuck', 2001, 'VsegdaGotov', 1926, 'd4,d5,c4,Nf6,Nc3,e6,g3,c6,Bg2,Be7,Nf3,O-O,O-O,Nbd7,Re1,Ne4,Qc2,f5,Bf4,Bf6,e3,h6,Nxe4,fxe4,Ne5,Nb6,c5,Nd7,Nxd7,Bxd7,g4,Qe7,f3,e5,Bg3,exf3,Bxf3,e4,Bd1,Bh4,Qg2,Bxg3,Qxg3,Qg5,h3,Rf7,Be2,Raf8,Rf1,h5,Rxf7,Rxf7,h4,Qg6,g5,Rf5,Rf1,Rxf1+,Bxf1,Qf5,Be2,g6,Kg2,b6,b4,a5,a3,Kg7,Kh2,bxc5,bxc5,Kf7,Qf4,Ke7,Kg3,Qh3+,Kf2,Kd8,Qf8+,Kc7,Qf4+,Kc8,Ba6+,Kd8,Qf8+,Be8,Qd6+,Bd7,Qf8+,Be8,Qf6+,Kd7,Qg7+,Kd8', 'Qf6+,Kc7,Qd6#', 'https://lichess.org/training/Z3oZa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z3rdq', 'Rapid', 'datogoga', 1664, 'minshamil92', 1728, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Bb4+,c3,dxc3,Nxc3,O-O,O-O,Bxc3,bxc3,Nxe4,Bd3,d5,Qc2,Bg4,Nd4,Bh5,f3,Nf6,Bg5,Bg6,Nf5,h6,Nxh6+,gxh6,Bxg6,hxg5,Bd3,Kg7,f4,Ne4,fxg5,Qxg5,Bxe4,dxe4,Qxe4,Nc6,Rf5,Qh6', 'Qg4+,Qg6,Rg5', 'https://lichess.org/training/z3rdq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z3uiA', 'Blitz', 'jywrd', 1534, 'saishangg', 1604, 'e4,d6,Nf3,e5,Bc4,Nf6,d3,Be6,Be3,Bxc4,dxc4,Nxe4,O-O,Nc6,Ng5,Nxg5,f4,Ne6,f5,Ned4,c3,Nxf5,Rxf5,g6,Bg5,f6,Bxf6,Be7,Bxh8,gxf5,Qh5+,Kd7,Qxh7,Qxh8,Qxf5+,Kd8,Nd2,Qf6,Qg4,Qf4,Qg8+,Bf8,Rf1,Qe3+,Rf2,Kd7,Qf7+,Be7,Qf5+,Ke8,Ne4,Nd8,Qg6+,Kd7,h3,Kc6,Kh2,Bh4,Rf3,Qe2', 'Qe8+,Kb6,Qb5#', 'https://lichess.org/training/Z3uiA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z3vaG', 'Rapid', 'nikey100', 1808, 'cyberaper', 1745, 'd4,d5,Nf3,c6,Bf4,Nf6,e3,g6,Bd3,Bg7,Nbd2,O-O,Rc1,Re8,c3,Nbd7,O-O,Nh5,Bg3,Nxg3,hxg3,e5,dxe5,Nxe5,Nxe5,Bxe5,f4,Bg7,Nf3,Bg4,Kf2,Rc8,Qd2,Qb6,Rh1,c5,Rh4,h5,Rch1,d4,e4,dxc3,Qe3,cxb2,f5,Bd4,Nxd4,cxd4,Qh6,Rxe4,Rxg4,Rxg4,fxg6,Qf6+,Kg1,Rc1+,Kh2,Rxh1+,Kxh1,fxg6', 'Bc4+,Qf7,Bxf7+,Kxf7,Qh7+', 'https://lichess.org/training/Z3vaG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z3X6T', 'Classical', 'sqrrlsakk', 1624, 'billionairmental', 1684, 'd4,d5,Bf4,Nc6,Nf3,g5,Bg3,Bg7,h3,f5,e3,Nf6,Nxg5,h6,Nf3,Ne4,Bh4,Be6,Nbd2,Qd7,Bd3,O-O-O,a3,Qd6,c4,dxc4,Bxc4,f4,Nxe4,Qd7,Nc5,Qd6,Bxe6+,Kb8,Qb3,b6,O-O,fxe3,Bg3,exf2+,Kxf2,Bxd4+,Nxd4,Qxd4+,Qe3,Rhf8+,Ke2,Qxb2+,Ke1,Nd4,Nd7+,Rxd7,Rxf8+,Kb7,Rd1', 'Nc2+,Kf2,Nxe3+', 'https://lichess.org/training/z3X6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z3x9l', 'Blitz', 'NM szachus', 2405, 'KacperV', 2428, 'd4,d5,c4,Nf6,Nf3,e6,Bg5,Be7,e3,O-O,Nbd2,b6,Bd3,Bb7,O-O,Nbd7,cxd5,Nxd5,Bxe7,Qxe7,Rc1,c5,a3,Rac8,Bb1,e5,e4,Nf4,d5,f5,g3,Nh3+,Kg2,Ng5,Nxg5,Qxg5,Nf3,Qg4,h3,Qh5,exf5,Qf7,Be4,Nf6,Ng5,Qd7,f3,Bxd5,Ne6,Bxe6,fxe6,Qxe6,Bc2,e4,f4,e3,Qe2,Rcd8,Rcd1,Kh8,Kh2,Rd4,Rxd4,cxd4,Rd1,Rd8,Qd3,g6,Rf1,Qa2,f5,g5,Rb1,Re8', 'Bb3,Qxb1,Qxb1', 'https://lichess.org/training/Z3x9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z3y3v', 'Rapid', 'John07', 1881, 'Desdap93', 1871, 'd4,d5,Nc3,Nf6,Bf4,a6,e3,e6,Nf3,c5,Ne5,Nc6,Bg5,Be7,Be2,O-O,O-O,Qd6,f4,cxd4,exd4,Qb4,Nxc6,bxc6,Rb1,a5,a3,Qd6,Bd3,Ba6,Qe2,Bxd3,Qxd3,Rfb8,Na4,Rb6,Nc5,Rab8,b3,Qc7,Rf3,Rb5,Rh3,h6,Bxh6,gxh6,Rxh6,Qxf4,Qh3,Qxd4+,Kh1,Bxc5', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/z3y3v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z3yI1', 'Rapid', 'Ruslan700', 1775, 'Vik51', 1811, 'e4,e5,Bc4,Nf6,d3,Nc6,Nf3,h6,O-O,d6,h3,Na5,Bb3,Nxb3,axb3,a6,Nc3,Be6,Nh2,Be7,f4,exf4,Rxf4,d5,e5,Nh7,Ng4,d4,Ne4,Ng5,Nef6+', 'gxf6,Nxf6+,Bxf6', 'https://lichess.org/training/z3yI1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z40JQ', 'Rapid', 'ZQAKE', 2207, 'bojanknife', 2094, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,h3,Nxe4,O-O,Nxc3,bxc3,c6,Bg5,Nd7,Re1,Nf6,Qe2,Re8,Rad1,Qc7,Qe3,b5,Bb3,Bb7,Bh6,a6,Bxg7,Kxg7,Bxf7,Kxf7,Ng5+,Kg8,Qe6+,Kh8,Nf7+,Kg7,Ng5,Kh8,Qf7,Bc8,Re3,Ra7,Rf3,Qd8,Rxf6', 'exf6,Qxa7,fxg5', 'https://lichess.org/training/Z40JQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z40qm', 'Blitz', 'tencuba', 2143, 'Kosara', 2255, 'd4,Nf6,c4,g6,Nc3,Bg7,e3,O-O,Nf3,c5,Be2,cxd4,exd4,d5,O-O,Nc6,c5,b6,cxb6,axb6,b3,Bf5,Bb2,Nxd4,Nxd4,e5,Nxf5,gxf5,Nb5,d4,Bc4,Kh8,Re1,Ne4,Ba3,Nc5,Qh5,Qf6,Bb2,Ne4,Bd5,Rac8,Bxe4,fxe4,Rxe4,Rc2,Bxd4,exd4,Rf1,Rfc8,Nxd4,Rxf2,Rfe1,Rf8,Nf3,Rxa2,Ng5', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/Z40qm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z42OW', 'Rapid', 'indyguy', 1614, 'DIBO61', 1673, 'd4,Nf6,c4,g6,Nc3,d6,Nf3,Bg7,e4,O-O,Be2,e5,d5,c5,Be3,a6,Qd2,Ng4,Bg5,Qe8,h3,Nf6,Nh2,Nh5,O-O-O,Bd7,g4,Nf6,f4,b5,fxe5,dxe5,Rdf1,b4,b3,bxc3,Qxc3,Qd8,Nf3,Re8,Nxe5,Nxe4,Bxd8,Nxc3,Nxf7,Nxe2+,Kd2,Bc3+,Kd3,Nc6,Nh6+,Kg7,Bg5,Ncd4', 'Rf7+,Kh8,Bf6#', 'https://lichess.org/training/Z42OW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z47xM', 'Rapid', 'kkkkiran', 1786, 'nishantmaske79', 1802, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,f3,g6,Be3,Bg7,Qd2,O-O,O-O-O,e5,Nb3,Be6,g4,Bxb3,cxb3,Rc8,Kb1,a6,h4,Nd4,Bg2,b5,h5,b4,Nd5,Nxd5,exd5,Qb6,hxg6,fxg6,Bh6,Nxf3', 'Bxf3,Bxh6,Qxh6', 'https://lichess.org/training/Z47xM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z4Af5', 'Rapid', 'Wolfgang_de_Cauter', 2039, 'tuture97', 1908, 'Nf3,Nf6,d4,d6,g3,g6,Bg2,Bg7,c4,O-O,Nc3,Nc6,e4,a6,O-O,Bg4,h3,Bd7,Kh2,e5,dxe5,Nxe5,Nxe5,dxe5,Be3,Qe7,Nd5,Nxd5,cxd5,f5,Rc1,Qd8,Qd2,Bb5,Rfd1,f4,gxf4,exf4,Bxf4,Qf6,Bg3,h5,e5,Qb6,Qd4,h4,Bxh4', 'Qxd4,Rxd4,Bxe5+,Bg3,Bxd4', 'https://lichess.org/training/Z4Af5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z4bmK', 'Rapid', 'tori97947', 1938, 'Sefa05', 1909, 'e4,c5,Nf3,d6,Bc4,Qc7,Ng5,e6,a3,a6,Qf3,Nf6,Nc3,Nc6,d3,Ne5,Qg3,Nxc4,dxc4,e5,Qf3,Be7,Nd5,Qd8,Nh3,O-O,Nxe7+,Qxe7,Bg5,Bxh3,gxh3,Qe6,Bxf6,Qxf6,Qxf6,gxf6,O-O-O,Rad8,Rd2,Rd7,f3,Rfd8,Rg1+,Kh8,Rdg2,b5,cxb5,axb5,h4,d5,exd5,Rxd5,Rg7,Rf8,R7g2,Rd4,Rg4,f5,Rxd4,exd4,Rg5,Rc8,Rxf5,Kg7,Kd2,Kg6,Rg5+,Kf6,b3,h6,Rh5,Kg6,Rd5,Kf6,h5', 'Ke6,Rxc5,Rxc5', 'https://lichess.org/training/Z4bmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z4Eux', 'Classical', 'janard', 1684, 'BladeCookie', 1683, 'e4,c5,Bc4,e6,Nc3,Nf6,d3,Nc6,Be3,Be7,Nf3,Na5,Bb3,Nxb3,axb3,O-O,O-O,b6,Nb5,a6,e5,Nd5,c4,Nxe3,fxe3,Bb7,Nd6,Bxd6,exd6,Qb8,d4,Qxd6,dxc5,Qxc5,Re1,Bc6,Kh1,h6,Qd4,Qb4,Qc3,Qc5,b4,Qe7,Ne5,Rfc8,Nxc6,Rxc6,b5,Rc5,Rxa6,Rxa6,bxa6,Ra5,b4,Rxa6,e4,Ra4,b5,Qc5,Re3,Rxc4,Qd2,Rc1+,Re1,Qc2', 'Qxc1,Qxc1,Rxc1', 'https://lichess.org/training/z4Eux');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z4gd1', 'Rapid', 'jandarma01', 1770, 'Artsk757', 1772, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,cxd6,Nf3,Bg4,Be2,e6,O-O,Nc6,h3,Bxf3,Bxf3,Nxc4,Bxc6+,bxc6,Qa4,Nb6,Qxc6+,Nd7,Bg5,f6,Be3,Rc8,Qf3,d5,Nc3,a6,Qh5+,g6,Qg4,f5,Qe2,Qb6,Rfe1,Bg7,Rad1,Nf6,Bg5,Ne4,Nxe4,dxe4,Be3,O-O,d5,Qxb2,Qxa6,exd5,Rxd5,Qc3,Red1,Rc6,Qa5,Qxa5,Rxa5,f4,Bd4,Bxd4,Rxd4,e3,fxe3,fxe3,Re4,Rc3,Rae5,Ra3,Rxe3,Rxa2,Re7,Rff2,Rg3,Rfc2,Rb7,Rc1+,Kh2,Rcc2,Rbb3,Kg7,Rbf3,Kh6,Rf1,Kh5,Rg1,h6,Rd3,Rc4,Rd5+,g5,Rgd1,Rcc2,Rg1,Kh4,Rd4+,Kh5,Rg4,Rc3,Rg3,Rc4,Rf3,Kh4,Rf6,h5,Re6,Rc3,Re4+,g4,hxg4', 'Rh3#', 'https://lichess.org/training/Z4gd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z4GYO', 'Classical', 'deragon1234', 2029, 'Volkanov_Sergey', 2102, 'e4,c5,Nf3,a6,a4,Nc6,c3,d5,e5,d4,cxd4,cxd4,Bc4,e6,O-O,Qc7,Bd3,Nxe5,Nxe5,Qxe5,Re1,Qc7,Na3,Bd7,Nc4,Nf6,a5,Bc5,h3,O-O,b3,b5,axb6,Bxb6,Ba3,Bc5,b4,Be7,Rc1,Qb7,Na5,Qb6,Nc4,Qb8,Ne5,Bxb4,Rb1,a5,Qf3,Qd6,Bxb4,axb4,Ng4,Nxg4,Qxg4,Bc6,Qh4,g6,Qf6,Rab8,h4,Qd8,Qf4,h5,Qg3,Qf6,Re5,Kh8,Rg5,Rg8,Be2,Be4,d3,Bf5,Qc7,Rgc8,Qg3,Rb5,Bxh5,gxh5', 'Rxh5+,Bh7,Rxb5', 'https://lichess.org/training/Z4GYO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z4kcz', 'Rapid', 'IvanQKeres', 2061, 'hritikgupta', 2052, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,Nf3,Nc6,exd6,exd6,Be3,Bg4,d5,Ne5,Be2,Bxf3,Bxf3,Nxf3+,Qxf3,Nxc4,Bd4,Be7,O-O,O-O,b3,Ne5,Bxe5,dxe5,Nd2,Bf6,Ne4,Be7,Rad1,Bd6,Rfe1,f5,Nc3,e4,Qh5,Qf6,Nb5,Rae8,Nd4,f4,Ne6,Rxe6,dxe6,Qxe6,Qd5,Qxd5,Rxd5,Re8,a4,b6,g3,e3,fxe3,fxe3,Re2,a5,Kg2,Kf7,Rd3,Kf6,Rdxe3,Rd8,h4,Bc5,Re6+,Kf7,Kh3,Rd3,Rc6,Rxb3,Rxc7+,Kg6,Re6+,Kf5,Rec6,g6,Rxc5+,bxc5,Rxc5+,Kf6,Rxa5,Ra3,Ra6+,Kf5,Ra8,h6,a5,g5,hxg5,hxg5,Rf8+,Ke4,Re8+,Kf3,Re5,g4+,Kh4,Ra4,Rf5+,Kg2,Rf4,Rxf4', 'gxf4,g3,a6,Kh2,a7,g2,a8=Q', 'https://lichess.org/training/z4kcz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z4Kdc', 'Blitz', 'jochem188', 2120, 'Mohammad_p', 1991, 'Nf3,c5,e4,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Nbd7,Qf3,Be7,O-O-O,Qc7,g4,b5,Bxf6,Nxf6,g5,Nd7,f5,Ne5,Qh5,g6,Qh6,Bf8,Qh3,b4,Ncb5,axb5,Bxb5+,Bd7,fxe6,Bxb5,Nxb5,Qd8,exf7+,Kxf7,Rhf1+,Kg7,Rf6,Rxa2,Kb1,Qa5', 'Qh6+,Kg8,Rxf8#', 'https://lichess.org/training/z4Kdc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z4kg2', 'Classical', 'thunderorange', 1634, 'ToluJNuts', 1670, 'd4,e6,Bf4,Nf6,Nf3,d5,e3,Be7,h3,Bd7,Bd3,Bd6,Bxd6,cxd6,c3,O-O,Nbd2,Qb6,b3,Na6,e4,dxe4,Nxe4,Nd5,O-O,f5,Neg5,Nxc3,Qe1,Nd5,Nxe6,Rf6,Bc4,Re8,Bxd5,Rexe6,Bxe6+,Rxe6,Qc3,h6,Rfe1,Kf7,Rxe6,Bxe6,Rd1,Nb4,a3,Nd5,Qb2,Qd8,Nd2,Qg5,Nc4,Ke7,Re1,b5,Ne3,Nf4,d5,Nd3,Qd2,Nxe1,Qxe1,Bd7,h4,Qf6', 'Ng4+,Kf7,Nxf6', 'https://lichess.org/training/Z4kg2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z4os6', 'Rapid', 'johanna2016', 1670, 'GlebKl', 1652, 'e4,e6,e5,d5,exd6,Bxd6,d4,Nf6,Bg5,b6,c4,O-O,Bd3,Bb4+,Nc3,Re8,Nf3,Nc6,O-O,Bb7,Bxf6,Qxf6,Ne4,Qh6,Neg5,g6,Qc1,Rad8,Qf4,f5,d5,Bd6,Qd2,exd5,Rae1,Rxe1,Rxe1,Ne5,Nxe5,Re8,Nef7', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/Z4os6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z4ovv', 'Rapid', 'Lybitelia', 1742, 'n0ideawhatimdoing', 1789, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d6,d5,Ne5,Nf3,Nf6,Nxe5,dxe5,Nc3,e6,Bc4,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/z4ovv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z4Pvj', 'Rapid', 'krauzand', 1743, 'bob1836', 1754, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,e3,Bf5,Bd3,Bxd3,Qxd3,Nc6,Nge2,Qd7,a3,Nh5,Bxe7,Nxe7,O-O,O-O,Rad1,c6,f3,f5,b4,a6,Na4,Qe8,Nc5,Qc8,Nc3,Nf6,e4,b6,e5,bxc5,exf6,Rxf6,bxc5,Ng6,Na4,Re6,Nb6,Qe8,Nxa8,Nf4,Qxf5,Rf6,Nc7', 'Qe3+,Kh1,Rxf5', 'https://lichess.org/training/Z4Pvj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z4wVk', 'Rapid', 'order523', 1854, 'otien0_1saa', 1830, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,a3,b5,Nc3,Bb7,Bf4,Be7,h3,d6,Bg3,Nd7,Bd3,Ngf6,O-O,O-O,Re1,Re8,Nf3,Qc7,e5,dxe5,Nxe5,Nxe5,Bxe5,Qc6,f3,Rad8,Qe2,Bc5+,Kh1,Nd5,Be4,Qc8,Rad1,Nxc3,Bxc3,Bxe4,Qxe4,Bf2,Rf1,Rxd1,Rxd1,Bg3,Be5,Bxe5,Qxe5,Qxc2,Rd7,Qc8,Ra7,f6,Qg3,g6,Qf4,Rd8,Qxf6', 'Rd1+,Kh2,Qb8+,f4,Qxa7', 'https://lichess.org/training/Z4wVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z4XUd', 'Rapid', 'Olimpy', 1871, 'Az4ert3', 1868, 'e4,c5,f4,e6,Nf3,d5,e5,Nc6,Bb5,Qc7,O-O,c4,d3', 'Qb6+,Kh1,Qxb5', 'https://lichess.org/training/Z4XUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z4xyu', 'Blitz', 'firstd4isbestbytest', 2433, 'IM KamranShirazi', 2526, 'd4,c5,d5,e6,Nc3,b5,dxe6,fxe6,Nxb5,Qa5+,Nc3,Bb7,Nf3,Nf6,Bd2,Qb6,g3,d5,Bg2,d4,Na4,Qc7,O-O,e5,Bg5,Nbd7,Nd2', 'Bxg2,Kxg2,Qc6+', 'https://lichess.org/training/z4xyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z54Nr', 'Blitz', 'GM VladimirBelous', 2681, 'IM sillyMASTER', 2728, 'Nf3,d6,d4,g6,c4,Bg7,Nc3,Nf6,e4,O-O,h3,Na6,Bg5,c5,d5,Nc7,Bd3,b5,cxb5,a6,bxa6,Bxa6,O-O,Qb8,Rb1,h6,Bh4,Nb5,Re1,g5,Bg3,Nd7,e5,Nxe5,Nxe5,dxe5,Nxb5,Bxb5,Bxb5,Qxb5,Bxe5,Rxa2,Bxg7,Kxg7,Qc2,c4,Re5,Qb3,Qxb3,cxb3,Rxe7,Rd8,Rb7,Rxd5,Rxb3,Rd2,Rb7,h5,g4,hxg4,hxg4,Rd4,f3,Rd2,Rb5,Kg6,Rb6+,Kg7,Kf1,Rh2,Kg1,Rd2,Rb5,Kg6,Rb8,Ra6,Rf1,Ra2,Rf2,Ra1+,Kg2,Rdd1,Rc2,Rg1+,Kf2,Raf1+,Ke3,Re1+,Re2,Rc1,Rb6+,Kg7,Rb5,Kg6,Rd5,Rc4,Rd4,Rcc1,Rb4,Rgd1,Rb3,f6,Rd2,Re1+,Kd4,Rc8,Rb6', 'Rd8+,Kc3,Rc1+,Rc2,Rc8+', 'https://lichess.org/training/z54Nr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z54ru', 'Blitz', 'Kadwallon', 2259, 'NM Tatoguaro', 2143, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Nc6,Bf4,Bg4,Qb3,Qd7,Nd2,e6,Ngf3,Bxf3,Nxf3,Bd6,Bxd6,Qxd6,O-O,O-O,Rae1,Rab8,a4,a6,Qd1,h6,Ne5,b5,Re3,Nd7,Nxd7,Qxd7,axb5,axb5,Qg4,f5,Qe2,Nd8,Ra1,g6,f4,Kg7,g4,Rb7,Rg3,Kh7,h4,Qf7,gxf5,exf5,Bxb5,Re7,Re3,Re4,Rxe4,fxe4,Rf1,Qf5,c4,Ne6,Bd7,Nxd4,Qd1,Qxd7,Qxd4,Qg4+,Kh1,Qxh4+,Kg1,Qg3+,Kh1,h5,cxd5,Qh3+,Kg1,e3,Qe4,Qg4+,Qg2,Rxf4,d6,Rf2', 'Qxg4,Rxf1+,Kxf1', 'https://lichess.org/training/Z54ru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z56h6', 'Rapid', 'polyhymnia', 1745, 'DivineTraube', 1751, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,O-O,O-O,d5,exd5,Nxd5,Nbd2,Bg4,Ne4,Bb6,h3,Bh5,Bb3,Re8,c4,Nf4,c5,Ba5,g4', 'Nxh3+,Kg2,Bxg4', 'https://lichess.org/training/Z56h6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z59AD', 'Rapid', 'LukaNejc', 1931, 'ahmad1976', 1967, 'e4,c5,Nf3,Nc6,c3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bg5,Be7,Nd2,Qa5,Bxf6,Bxf6,Qb3,O-O,O-O,Bd7,Qc2,e5,a3,Qb6,b4,Be6,Bxe6,fxe6,c4,d5,exd5,exd5,cxd5,cxd5,Rad1,Rac8,Qf5,Qb7,Nf3,e4,Ng5,Bxg5,Qxg5,Rcd8,Rd4,Rd6,Rfd1,Rfd8,f3,exf3,gxf3', 'Rg6,Qxg6,hxg6', 'https://lichess.org/training/z59AD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z5Ah9', 'Classical', 'brainkim', 1940, 'hamery93', 1894, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,O-O,e5,Nf5,Nbd7,c4,Nc5,Bg5,h6,Bxf6,Qxf6,Nc3,Be6,Nd5,Bxd5,cxd5,g6,Ne3,b5,b4,Nxd3,Qxd3,Rc8,Rac1,Rxc1,Rxc1,Kd7,Rc6,Bg7,Rxa6,Rb8,Ra5,Ke7,Rxb5,Rc8,Qa3,Kf8,f3,Qh4,g3,Qd8,Qa5,Qd7,Kg2,Kg8,g4,h5,h3,Bh6,Kf2,Qe7,Qa6,Qh4+,Ke2,Bxe3,Qxc8+,Kg7,Kxe3,Qe1+,Kd3,Qf1+,Kc3', 'Qc1+,Kb3,Qxc8', 'https://lichess.org/training/Z5Ah9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z5FdR', 'Bullet', 'flippoflip', 1597, 'mouadll', 1699, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Bb4,e3,O-O,a3,Be7,Bd2,c5,Qc2,Nc6,Be2,Qb6,O-O,cxd4,exd4,Nxd4,Nxd4,Qxd4,Be3,Qe5,cxd5,Nxd5,Nxd5,Qxd5,Bf3,Qf5,Be4,Qh5,Rac1,h6,Qc7,Bf6,Rc5,Qh4,g3,Qxe4,Rfc1,Bxb2,R1c4,Qf3,Rf4,Qe2,Qe7,Bxa3,Rxf7,Rxf7,Qe8+,Rf8,Rxc8,Rxc8,Qxe6+,Kh8,Bd4,Qf3', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/z5FdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z5icv', 'Rapid', 'Bowmore17', 1870, 'berniedelos345', 1899, 'e4,c5,f4,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Bg4,Qd3,e5,Nxc6,bxc6,fxe5,dxe5,Qa6,Bb4,Qxc6+,Kf8,Bd2,Rc8,Qa4,Bc5,Be2,Bxe2,Nxe2,Qb6,O-O-O,h6,a3,g6,Bb4,Kg7,Bxc5,Qxc5,Nc3', 'Qe3+,Kb1,Rxc3', 'https://lichess.org/training/z5icv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z5iHf', 'Classical', 'Roggerio', 1792, 'ycpatel', 1824, 'd4,d5,c4,Nf6,Nc3,c6,Nf3,Bg4,h3,Bxf3,exf3,e6,a3,Be7,Qb3,Qc7,cxd5,Nxd5,Nxd5,exd5,Bd3,O-O,O-O,Nd7,f4,Nf6,Re1,Bd6,g3,b6,Bf5,Rfe8,Be3,Ne4,Bxe4,Rxe4,Rac1,Rae8,f3,R4e6,Re2,Qe7,Rce1,Qd7,Kg2,Rh6,Rh1,Rg6,Qd3,c5,dxc5,Bxc5,Bxc5,Rxe2+,Qxe2,bxc5,Qe5', 'Re6,Qb8+,Re8', 'https://lichess.org/training/z5iHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z5Ihw', 'Blitz', 'JUAN1985', 1728, 'AzianRice', 1767, 'e4,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,Bc4,e6,d4,Nc6,Nf3,d6,Be3,Nxe3,fxe3,dxc5,d5,exd5,Bxd5,Bg4,O-O,Qd7,Nc3,O-O-O,Qb3,Bxf3,Bxf3,b6,Qa4,Nxe5', 'Qa6+,Kb8,Qb7#', 'https://lichess.org/training/z5Ihw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z5jhB', 'Rapid', 'Manish_TRP', 1654, 'aashi10', 1700, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,O-O-O,Nc3,Qe6,d5,Rxd5,Nxd5,Bxf3,gxf3,Nd4,Nc3', 'Nxf3+,Kf1,Qh3#', 'https://lichess.org/training/Z5jhB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z5kUY', 'Classical', 'BlackburnII', 1834, 'tintu123', 1776, 'e4,g6,Bc4,e6,Nf3,c6,Nc3,Bg7,b3,d5,Bd3,Ne7,e5,O-O,O-O,Nd7,Re1,Qc7,Bb2,Nxe5,Nxe5,Bxe5,g3,Nf5,Bxf5,exf5,f4,Bd4+,Kh1,Be6,Rb1,Qb6', 'Na4,Qc7,Bxd4', 'https://lichess.org/training/Z5kUY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z5lfo', 'Rapid', 'AndresLeon', 1923, 'heitz15', 1893, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Qc7,Be2,Nf6,Qd3,g6,O-O,Bg7,Nc3,O-O,Be3,Nc6,Rac1,Ne5,Bf4,Nxd3,Bxc7,Nxc1,Rxc1,Re8,e5,Nh5,Bxh5,gxh5,Ne4,b5,cxb5,axb5,Nxb5,Rxa2,f4,Ba6,Nbd6,Ra8,b4,Bd3,b5,Rb2,b6,Bh6,Nf6+,Kg7,Rd1,Bxf4', 'Nxh5+,Kf8,Nxf4', 'https://lichess.org/training/z5lfo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z5Lpd', 'Rapid', 'chrim', 1911, 'Smettbo', 1833, 'e4,Nf6,e5,Nd5,d4,d6,exd6,exd6,c4,Nb6,Nc3,Bf5,Nf3,Nc6,Be2,Qd7,b3,O-O-O,O-O,Be7,Bb2,Bf6,d5,Ne5,Nb5', 'Nxf3+,Bxf3,Bxb2', 'https://lichess.org/training/Z5Lpd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z5m2n', 'Blitz', 'aaaSashaMGGU', 1622, 'ryandans', 1634, 'd4,d5,Bf4,Nc6,e3,Bf5,Bd3,Bg6,Nf3,e6,c3,Bd6,Bg3,Nf6,Ne5,Bxd3,Qxd3,Ne4,Nd2,Nxg3,hxg3,Bxe5,dxe5,Nxe5,Qd4,Qf6,Nf3,Nxf3+,gxf3,Qxf3,Qxg7,Qxh1+,Ke2,Qh5+,g4,Qg6,Qxh8+,Ke7,Qxa8,Qc2+,Kf3,Qe4+,Ke2,Qxg4+,Kd2,Qf3,Qxb7,Qxf2+,Kd3,Qf5+,Kd4', 'Qe4+,Kc5,Qc4#', 'https://lichess.org/training/Z5m2n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z5onp', 'Blitz', 'YousefMohebiRad', 1924, 'Justchess80', 1831, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,c3,Nf6,Be3,Bg4,Bd3,Bd6,Nbd2,O-O,O-O,Re8,Qc2,h6,Rae1,Nh5,h3,Bxf3,Nxf3,Nf4,Bxf4,Bxf4,Rxe8+,Qxe8,Re1,Qd7,Ne5,Qd6,Bh7+,Kf8,Qe2,Re8', 'Ng6+,Qxg6,Qxe8#', 'https://lichess.org/training/z5onp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z5oyr', 'Classical', 'agusdsr', 2207, 'milquinientos', 1983, 'Nf3,c5,g3,d5,Bg2,Nf6,O-O,e6,d4,Nc6,b3,Be7,Bb2,O-O,Nbd2,b6,c4,cxd4,Nxd4,Bb7,cxd5,Nxd4,Bxd4,Nxd5,Ne4,Qd7,Qd2,Rad8,Rad1,f5,Nc3,Bb4,Qg5,Nxc3', 'Bxc3,Bxc3,Rxd7', 'https://lichess.org/training/Z5oyr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z5PHh', 'Classical', 'SECB123', 1703, 'Nemiroffchess31', 1663, 'e4,c6,Nc3,d5,f3,d4,Na4,e5,Bc4,b5,Bxf7+,Kxf7,f4,bxa4,Qh5+,g6,Qxe5,Qf6,Qc7+,Nd7,e5,Qxf4', 'e6+,Kg7,Qxf4', 'https://lichess.org/training/z5PHh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z5s9t', 'Rapid', 'RecisipGG', 1729, 'baran31', 1635, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,b6,e5,Bc5,Qf4,Qe7,O-O,Nh5,Qf3,O-O,Qxa8,Qxe5,Qf3,Bd6,g3,c6,Bd2,Bb7,Rfe1,Qf6,Ne4,Qxf3,Nxd6,c5,Nxb7,Qxb7,Re7,Nf6,Rae1,Qf3,Bc3,Ng4,R1e2,Qf5,Bd3,Qh5,h4,Qd5,b3,h5,Rd2,Qc6,Be4,Qc8,Rexd7,Nf6,Bxf6,gxf6,Bf5,Qa6,a4,Qa5,Rd1,c4,R7d5,Qc3,bxc4,Qxc4,R1d4,Qa2,Bd3,Re8,Rxh5', 'Qa1+,Kh2,Qxd4', 'https://lichess.org/training/z5s9t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z5swL', 'Blitz', 'ArturHarutyunyan', 1958, 'JeDuiD', 1991, 'e4,e5,Nf3,d6,Bc4,Be7,Nc3,Nf6,d4,exd4,Nxd4,O-O,Be3,Bd7,Bb3,Nc6,Qd2,a6,O-O-O,Nxd4,Bxd4,c5,Bxf6,Bxf6,Nd5,b5,Nxf6+,Qxf6,Bd5,Rac8,f4,c4,c3,a5,g4,b4,g5,Qe7,h4,bxc3,Qxc3,Be6,h5,a4,h6,f6,hxg7,Kxg7,gxf6+,Rxf6,Rdg1+,Kh8,e5,dxe5,Qxe5,Rd8,Bxe6,Qxe6,Qc3,Rd3,Qa5,Qe3+,Kb1,Rd8,Rxh7+,Kxh7,Qh5+,Rh6', 'Qf7+,Kh8,Qg7#', 'https://lichess.org/training/Z5swL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z5Vxe', 'Rapid', 'Pro100-mixa', 1797, 'Scarsetto92', 1821, 'e3,c5,Nf3,d5,b3,Bg4,Nc3,a6,Bb2,Nc6,d4,Nf6,Be2,e6,h3,Bh5,Nh4,Bxe2,Qxe2,cxd4,exd4,Nxd4,Qd2,Nc6,O-O,Bb4,Nf3,Ne4,Qe3,Bc5,Qf4,Bd6,Qg4,Ne5,Nxe5,Bxe5,Nxe4,Bxb2,Rab1,f5,Qe2,fxe4,Rxb2,O-O,f3,Qh4,c4,Rae8,fxe4,Rxf1+,Kxf1,Rf8+,Kg1,Qf4,exd5,Qc1+,Kh2,exd5,cxd5,Qc7+,Kg1,Qc5+,Kh1,Qxd5,Rb1,b5,Rd1,Qc6,b4,Re8,Qg4,Qc3,Rd7', 'Re1+,Kh2,Qe5+,Qg3,Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/Z5Vxe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z5zV8', 'Blitz', 'mishiko_tal', 1928, 'AquinoRasta', 1953, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,O-O,h5,c3,Nf6,d4,exd4,cxd4,Nxe4,Re1,f5,Qb3,Bxf3', 'Bf7+,Kd7,Qe6#', 'https://lichess.org/training/z5zV8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z60Tk', 'Rapid', 'Make_a_Blunder', 1689, 'Reixas', 1715, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,h3,e5,Nxc6,bxc6,Bg5,Be7,Bd3,h6,Bh4,O-O,O-O,Nh5', 'Bxe7,Qxe7,Qxh5', 'https://lichess.org/training/z60Tk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z66Q8', 'Blitz', 'mutiaralaut', 1958, 'florish', 2083, 'e4,d6,d4,g6,f4,Bg7,Nf3,c5,d5,Nf6,Nc3,O-O,a4,Bg4,Be2,Nbd7,O-O,a6,Kh1,Rb8,a5,Qc7,Qe1,e6,h3,Bxf3,Bxf3,exd5,exd5,c4,Qh4,b5,axb6,Qxb6,f5,Ne5,Bh6,Nxf3,Rxf3,Qxb2,Raf1,Nd7,Bxg7,Kxg7,f6+,Kh8,Qh6,Rg8,Rf4,Qxc3', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/Z66Q8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6b5e', 'Rapid', 'doccor', 1946, 'Kimura76', 1942, 'c4,c5,Nc3,e6,Nf3,Nf6,e4,d6,Be2,Be7,O-O,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e5,Qd3,O-O,Bg5,a6,Bxf6,Bxf6,Nd5,Be6,f4,Bxd5,exd5,exf4,Rxf4,Bxb2,Rb1,Be5,Rf3,Qh4,Rh3,Qd4+,Kh1,Qxd3,Bxd3,g6,Rxb7,Rfb8,Rd7,Rb2,Rf3,Rf8,Rf1,Rxa2,Re7,Rd2,Bb1,f5,c5,Rxd5', 'Ba2,Kh8,Bxd5', 'https://lichess.org/training/Z6b5e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6DBn', 'Rapid', 'dodo-152', 1770, 'kampertrejning', 1662, 'e4,g6,c3,d6,Nf3,Nf6,Be2,Nxe4,Qa4+,Nc6,Qxe4,Bf5,Qa4,Bg7,O-O,O-O,d4,Bd7,Qc2,Bf5,Bd3,Bg4,Nbd2,e5,d5,Ne7,c4,f5,Ng5,e4,Ne6,exd3,Qxd3,Qd7,Nxf8,Rxf8,Rb1,f4,Nf3', 'Bf5,Qb3,Bxb1', 'https://lichess.org/training/Z6DBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6EaF', 'Blitz', 'The-Legend27', 2172, 'Trullaman', 2103, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,a6,c4,Nc6,Qe3,Nf6,Bd3,e6,Nc3,Be7,O-O,O-O,h3,Qc7,b3,b6,Bb2,Bb7,Rac1,Rac8,Nd5,exd5,cxd5,b5,dxc6,Ba8,Nd4,Rfe8,Nf5,Bf8,Qg3,Re6,Rfe1,Ne8,e5,dxe5,Bxe5,Qd8,Rcd1,Qa5,Nd4,Rh6,Bf4,Rf6,Qh4,h6,Nf5,Bxc6,Bg5,hxg5', 'Ne7+,Bxe7,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/Z6EaF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6Fxc', 'Blitz', 'HumbleG', 1893, 'Nemir0ff', 1919, 'e4,e6,d4,d5,exd5,exd5,c4,c6,Nc3,Nf6,Nf3,Bb4,a3,Ba5,b4,Bc7,c5,O-O,Bg5,Bg4,Be2,h6,Bh4,Nbd7,O-O,Re8,h3,Bh5,Re1,Bf4,Qc2,Qc7,Bxf6,Nxf6,b5,Re7,Nh4,Rae8,Nf5,Re6,bxc6,bxc6,Bxh5', 'Rxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/Z6Fxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6gfm', 'Rapid', 'PaquitoMou', 1635, 'beginnerady', 1677, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,cxd4,cxd4,Qb4+,Nc3,Qa5,O-O,Bb4,Bd2,Nge7,a3,Bxc3,bxc3,Qc7,c4,O-O,cxd5,Nxd5,Rc1,Qe7,a4,Bd7,Qb3,b6,Bc4,Rab8,Bxd5,exd5,Qxd5,Rfc8,Bg5,Qe6,Qxe6,Bxe6,Rc3,Bd5,Rfc1,a6,a5,b5,Rc5,Ne7,Bxe7,Rxc5,Rxc5,Bxf3,gxf3,b4,Rc6,b3,Rb6', 'Rxb6,axb6,b2', 'https://lichess.org/training/Z6gfm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6h1w', 'Rapid', 'civh1352', 1951, 'BogomilTodorov', 2291, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Qe2,Be7,Bd3,Nc5,O-O,O-O,Re1,Nxd3,Qxd3,c5,Nc3,Be6,b3,Nc6,a3,Bd6,Kh1,Bc7,Nb5,Bb8,Qe3,d4,Qg5,Qb6,a4,h6,Qh5,Nb4,Na3,Bd5,d3,Qd6,Bd2,Bxf3,gxf3,Qd5,Qh3,a5,Rg1,Ra6,Bxh6', 'Rxh6,Qxh6,Qxf3+,Rg2,Qxg2+,Kxg2,gxh6', 'https://lichess.org/training/Z6h1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6H5y', 'Rapid', 'Stupid2005', 1921, 'P223344', 2199, 'c3,f5,d3,Nf6,Nd2,e6,h3,d5,Ngf3,Bd6,g4,fxg4,hxg4,Nxg4', 'Qa4+,Nc6,Qxg4', 'https://lichess.org/training/Z6H5y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6IGF', 'Classical', 'matthewlamar', 1647, 'AlexTartakover', 1651, 'c4,e5,Nc3,c6,Nf3,Qc7,d4,d6,dxe5,dxe5,b3,Nd7,Bb2,Bb4,g3,Ngf6,Bg2,Ne4,Rc1,Nxc3,Bxc3,Bxc3+,Rxc3,Qa5,Qd2,O-O,O-O,f6,Rb1,Nc5,b4,Ne4,bxa5,Nxd2,Rd1,Nxf3+,Bxf3,Be6,Rd6,Bf7,Rd7,Rab8,a6,bxa6,Rxa7,Ra8,Rc7,Rfc8,Rxc6,Rxc6,Bxc6,Rc8,Bb7,Rxc4,Ra3,g6,Rxa6,Rb4,Ra7', 'Rb1+,Kg2,Rxb7,Rxb7,Bd5+,f3,Bxb7', 'https://lichess.org/training/Z6IGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z6iVs', 'Blitz', 'bobiknapomoike', 1718, 'Kyease', 1749, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Be7,Be3,d6,Bb5,Bd7,Qd2,a6,Nxc6,bxc6,Ba4,d5,exd5,cxd5,O-O,Nf6,Bxd7+,Qxd7,h3,O-O,a3,Rac8,Ne2,Qb5,b4,Ne4,Qd3,Qc6,Rac1,Bf6,f3,Nd6,Bc5,Rfd8,Nd4,Bxd4+,Qxd4,Nf5,Qf2,Qa4,g4,Nd6,Bxd6,Rxd6,Qe3,Rxc2', 'Rxc2,Qxc2,Rc1,Qxc1+,Qxc1', 'https://lichess.org/training/z6iVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6kcC', 'Rapid', 'boym', 1828, 'prKhushal', 1688, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,c5,c3,Nc6,Nbd2,e6,Be2,Nh5,Bg3,h6,Ne5,Nxg3,hxg3,Nxe5,dxe5,f6,Nf3,Qc7,exf6,gxf6,Nh4,Bh7,Bh5+,Kd7,Bf3,Rd8,Qa4+,Kc8,Qxa7,c4,Bd1,Bc5,Qa8+,Kd7,Qa4+,Kc8,Nf3,Be4,Nh4,e5,Bg4+,Kb8,Bf5,Bxf5,Nxf5,d4,Qxc4,dxe3,Nxe3,Bxe3,Qxc7+,Kxc7,fxe3,Rhg8,Rxh6,Rxg3,Rxf6,Rxe3+,Kf2,Re4,Kf3,Rh4,Re1,Rd2,Re2,Rf4+,Ke3', 'Rxe2+,Kxe2,Rxf6', 'https://lichess.org/training/Z6kcC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z6lQa', 'Rapid', 'gendrikh', 1621, 'sanspeur', 1639, 'e4,c5,Bc4,e6,Nc3,a6,Nf3,b5,Be2,Bb7,d3,d6,O-O,Nd7,Bg5,Be7,Bxe7,Qxe7,Qd2,Ngf6,h3,O-O,b3,Rac8,Nd1,Rc7,c4,b4,Qe3,e5,Nh4,g6,Qh6,Nh5,Bxh5,Qxh4,Qe3,Qxh5,f4,Qh4,f5,Qe7,Qh6,Bc8,Ne3,Nf6,Nd5,Nxd5,cxd5,a5', 'f6,Qxf6,Rxf6', 'https://lichess.org/training/z6lQa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z6m3g', 'Rapid', 'vivek1337', 1894, 'RikSteenmeijer', 1944, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,O-O,O-O,d6,Bg5,h6,Bh4,Bg4,e5,dxe5,dxe5,Qxd1,Nxd1,Bxf3,exf6,Bxd1,fxg7,Kxg7,Raxd1,Ne5,Bb3,Ng6,Bg3,c6,Rd7,b6,Bc2,Rfd8,Rfd1,Rxd7,Rxd7,Re8,f3,Bc5+,Kf1,Bb4,a3,Be7,Rxa7,Bf6,b4,h5,a4,h4,Bf2,Bc3,b5,c5,Rb7,Ba5,Bb3,Re7,Rxe7,Nxe7,Bxh4,Nf5,Bd8,Nd4,Bd1,Kf8,Bf6,Ne6,h4,Nf4,Kf2,Nd5,Bb2,c4,g4,c3,Ba3+,Kg7,Bc2,Bb4,Bc1,Bc5+,Ke2,Nb4,Be4,Bd4,Be3,Be5,Bxb6,c2,Kd2', 'Bf4+,Be3,Bxe3+', 'https://lichess.org/training/z6m3g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z6olL', 'Classical', 'mgallo', 1814, 'elaqinn', 1867, 'd4,Nf6,Nf3,c5,e3,cxd4,exd4,d5,c3,Bg4,Bf4,e6,Qa4+,Nc6,Ne5,Qb6,Bc1,Bf5,Bb5,Rc8,Nd2,Bc2', 'Bxc6+,bxc6,Qxc2', 'https://lichess.org/training/z6olL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z6prq', 'Rapid', 'TShrihan', 1930, 'nb12', 1774, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bb4,Nd5,Bc5,c3,d6,O-O,Nxe4,d4,Bb6,Re1,Bf5,Bd3,Nxf2,Kxf2,Bg4,h3,Bh5,Kg1,O-O,Be2,exd4,Nxd4,Bxe2,Rxe2,Nxd4,cxd4,Qh4,Nxb6,axb6,Be3,f5,Qb3+,Kh8,Rf1,f4,Bd2,f3,Rxf3,Qxd4+,Ref2,Rxf3,Qxf3,h6,Bc3,Qc4,Qg3,Rg8,Qg6,Qh4,Bxg7+,Rxg7', 'Rf8+,Rg8,Qxg8#', 'https://lichess.org/training/z6prq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6pW0', 'Rapid', 'ItouKaiji', 1909, 'MichelMortagua', 1955, 'e4,d6,d4,Nf6,Bd3,g6,h3,Bg7,Be3,O-O,c4,c6,Nc3,e6,Qd2,Na6,O-O-O,Nb4,Bb1,d5,e5,Nd7,a3,Na6,f4,dxc4,g4,b5,Qg2,Bb7,Nxb5,cxb5,Qxb7,Nc7,Be4,Nd5,Bxd5,exd5,Qxd5,Nb6,Qxd8,Rfxd8,Nf3,Nd5,Bf2,a5,f5,Nf4,f6,Bf8,h4,Nd3+,Rxd3,cxd3,Kd2,b4,h5,bxa3,hxg6,fxg6,Ng5,axb2', 'f7+,Kh8,Rxh7#', 'https://lichess.org/training/Z6pW0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z6rWL', 'Rapid', 'elainebenes', 1853, 'polymorphic', 1833, 'd4,d5,e3,Nf6,c3,Nc6,Nd2,e5,Ndf3,e4,Ng5,h6,N5h3,Bd6,Bd2,a6,Nf4,g5,Nh5,Bf5', 'Ng7+,Kf8,Nxf5', 'https://lichess.org/training/z6rWL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6S16', 'Rapid', 'gabrielATHENA', 1899, 'Bohemian60', 1950, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Nc3,c6,Bg5,Nf6,Bd3,O-O,O-O,Bg4,Re1,Nbd7,h3,Bh5,Bh4,Qc7,g3,Rae8,Kg2,Rxe1,Qxe1,Re8,Qd2,Ne4,Qe1,Bxf3+,Kxf3,Ng5+,Bxg5,Rxe1,Rxe1,f6,Bd2,g6,a3,Kf7,Nd1,f5,Bg5,Nf6,Kg2,Ne4,Bh6,Bf8,Bxf8,Kxf8,h4,Kf7,c3,Qd6,Bxe4,fxe4,f3,exf3+,Kxf3,Qf6+,Kg2,Qf5', 'Rf1,Qxf1+,Kxf1', 'https://lichess.org/training/Z6S16');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6Tvw', 'Blitz', 'Cudzoziemiec', 2195, 'withoutanybelief', 2258, 'e4,d6,Nc3,Nf6,g3,g6,Bg2,Bg7,d3,O-O,Be3,e5,Qd2,c6,Bh6,d5,h4,dxe4,Nxe4,Nxe4,Bxe4,f5,Bg2,Be6,Ne2,Nd7,h5,Qe7,hxg6,hxg6,Bg5,Qf7,a3,Rae8,O-O-O,Bd5,Rh2,Bxg2,Rxg2,Nf6,Bxf6,Qxf6,Rh2,Rd8,c3,c5,Rdh1,b5,Qe3,Qd6,Kc2,b4,axb4,cxb4,Nc1,bxc3,Qxa7,cxb2', 'Rh8+,Bxh8,Qh7#', 'https://lichess.org/training/Z6Tvw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6VC8', 'Rapid', 'Ronx', 1669, 'khayri', 1709, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,d6,c3,Nxe4,d4,Be7,dxe5,Na5,exd6,Nxd6,Bc2,O-O,Qd3,Bf5,Qe2,Bxc2,Qxc2,Bf6,Be3,Re8,Nbd2,Ndc4,Bd4,Re2,Rfe1,Rxe1+,Rxe1,Bxd4,Nxd4,Qf6,Ne4,Qg6,b3,Nd6,f3,Kf8,Qf2,Re8,Nxd6,Rxe1+,Qxe1,Qxd6,Qe4,c5', 'Qa8+,Ke7,Nf5+', 'https://lichess.org/training/Z6VC8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z6Wc7', 'Blitz', 'vnzzznt', 1658, 'Boyoz3535', 1678, 'd4,d5,e3,Bf5,h3,h5,Bd3,Bxd3,Qxd3,Nf6,Nf3,e6,c3,Nc6,b3,Bd6,a4,a5,Ba3,Bxa3,Nxa3,O-O,O-O,Ne4,Rac1,Re8,Nb1,e5,Nbd2,Nxd2,Nxd2,e4,Qb5,Qc8,Qe2,Re6,c4,Rg6,Kh2,dxc4,bxc4,Ne7,Nxe4,c6,Qxh5,Qc7+,Kg1,f5,Ng5,c5,Qh7+,Kf8,Qh8+,Ng8,Nh7+,Kf7,Ng5+,Kf8,Qh5,Ne7,dxc5,Qxc5,Nh7+,Kg8,Ng5,Rh6,Qf7+,Kh8,Rfd1,Nc6,Ne6,Qe7,Qxe7,Nxe7,Nf4,Re8,c5,Nc6,Rd7,g5,Ne2,g4,hxg4,fxg4,g3,Re5,Nf4,Ne7,Rxb7,Ng6,c6,Nxf4,exf4,Reh5,Rb8+,Kg7,Rb7+,Kh8,Rcb1', 'Rh1+,Kg2,R6h2#', 'https://lichess.org/training/z6Wc7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6wx8', 'Blitz', 'coachidfparis', 2164, 'youpi2015', 2092, 'd4,e6,Bf4,d5,e3,Bd6,Bg3,Nf6,Nd2,O-O,Bd3,c5,c3,Nc6,Ngf3,b6,Ne5,Bb7,f4,Ne7,Qb1,Ng6,O-O,Rc8,h4,Bxe5,fxe5,Ng4,h5,Ne7,Bxh7+,Kh8,Bh4,Nxe3,Rf3,N3f5,Bxf5,exf5,Rxf5,Qd7,Bxe7,Qxe7,Qf1,Qe6,Qf4,Ba6,Qf3,Be2,Qf2,Bd3,Rf3,Bh7,Qh4,cxd4,cxd4,Rc2,Rf2,Rfc8,Nf3,Rxf2,Qxf2,Qg4,Nh2,Qxh5,Rf1,Bg6,Qg3,Rc2,Nf3,Be4,Nh4,g5,e6,fxe6,Qe5+,Kh7,Nf3,Bxf3,Rxf3,Rc1+,Rf1,Rxf1+,Kxf1,Qd1+,Kf2,Qd2+,Kg3,Qd3+,Kh2,Qf5,Qc7+,Kg6,Qxa7,Qf4+,Kg1,Qxd4+,Kh2,Qf4+,Kg1,Qc1+,Kh2,Qxb2,a4,d4,Qd7,Kf6,Qd8+,Ke5,Qc7+,Ke4,Qc6+,Kf5,Qc7,e5', 'Qf7+,Kg4,Qf3+,Kh4,Qh3#', 'https://lichess.org/training/Z6wx8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6Wze', 'Rapid', 'KAMAR33', 1771, 'Phanatic13', 1808, 'e4,c5,d3,Nc6,f4,e6,e5,d6,Nf3,dxe5,fxe5,Be7,Nc3,b6,Bf4,Bb7,Qd2,Nd4,Nxd4,cxd4,Ne4,Bxe4,dxe4,Bc5,O-O-O,Ne7,Bd3,O-O,Bg5,Qc7,Qf4,Ng6,Qg3,Nxe5,Bf6,g6,Bxe5,Qe7,Qf4,f6,Bc4,fxe5,Qxe5,Rae8,h4,a5,h5,Rf6,hxg6,Rxg6,Rdf1,Qg5+,Qxg5,Rxg5,Rf6,Kg7,Rfh6,Rh8,Bxe6,Rxg2,Bd5,d3,cxd3', 'Be3+,Kb1,Bxh6', 'https://lichess.org/training/Z6Wze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z6YAy', 'Rapid', 'PITICLYN', 1807, 'oswajas', 1934, 'd4,f5,Bg5,Nf6,e3,e6,Bd3,Be7,Qe2,O-O,f4,d6,c3,Nbd7,Nd2,Kh8,h4,Ng4,Bxe7,Qxe7,Ngf3,c5,Nh2,cxd4,Nxg4,dxc3,bxc3,fxg4,Qxg4,Nf6,Qf3,e5,g4,exf4,Qxf4,Nd5,Qe4,Qxe4,Nxe4,Nxe3,Ke2,Nxg4,Rhg1,Re8,Rg3,d5,Kf3,dxe4+,Bxe4,Ne5+,Kf4,Ng6+,Bxg6,hxg6,Rxg6,Re6,Rg5,Rf6+,Ke5,Bd7,Rag1,Re8+,Kd4,Rf7,h5,Kh7,h6,Kxh6,R5g3,Rf4+,Kc5,Re7', 'Rh1+,Bh3,Rhxh3+,Rh4,Rxh4#', 'https://lichess.org/training/Z6YAy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z73NX', 'Rapid', 'AdamWorth_07', 1671, 'Felipe_Santiago_Unpa', 1712, 'e4,e5,f4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qe6,Be2,exf4,O-O,Bc5+,d4,Bd6,d5,Bc5+,Kh1,Qe7,dxc6,bxc6,Re1,Nf6,Bc4,Be6,Ng5,Ng4,Nge4,Rd8,Qxg4,Bxg4,Nf6+,gxf6,Rxe7+,Kxe7,Bxf4,Bd6,Re1+,Be6,Bd2,Rhg8,Ne4,Bxc4,Bc3,Bd5,Nxf6+,Kf8', 'Nxh7#', 'https://lichess.org/training/z73NX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z771M', 'Blitz', 'artur7677', 1505, 'mmchts', 1813, 'e4,c5,f4,Nc6,Nf3,d6,d4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,e5,dxe5,Qxd8+,Kxd8,fxe5,Nd5,Bc4,Nb4,Bb3,Be6,Nc3', 'Bxb3,cxb3,Nc2+,Kd1,Nxa1', 'https://lichess.org/training/Z771M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z776Y', 'Rapid', 'wifiwifiwifi', 1833, 'Tiezerk', 1872, 'e4,Nc6,f4,e5,d3,d6,Nf3,Nf6,h3,Nh5,f5,Nd4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/z776Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z77GN', 'Rapid', 'taubenuss', 1973, 'lochchess1909', 1910, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nce2,Nc6,c3,Qb6,Nf3,cxd4,Nexd4,Nxd4,cxd4,Bb4+,Bd2,f6,exf6,Nxf6', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/z77GN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z7bOm', 'Blitz', 'mateuchek_krk', 1718, 'clarkinthepark', 1707, 'e4,c5,Nf3,Nc6,c3,e6,d4,d5,e5,a6,Be3,Nge7,Nbd2,cxd4,cxd4,Nf5,Bg5,Be7,Bxe7,Qxe7,Nb3,b6,Bd3,O-O,O-O,Nb4,Bxf5,exf5,a3,Nc6,Nc1,f4,Nd3,Be6,Nxf4,Rac8,Nxe6,Qxe6,Re1,Rc7,Qd3,Rfc8,Ng5,Qh6,Qf5,Nxd4,Qg4,Nc2,Rac1,Nxe1', 'Qxc8+,Rxc8,Rxc8#', 'https://lichess.org/training/z7bOm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z7bZ9', 'Classical', 'PraveenAnbu123', 1663, 'ngc7000', 1630, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,c3,Nf6,d4,exd4,cxd4,Be7,Nc3,b4,Ng5,O-O,Ne2,d5,Ng3,Nxe4,N5xe4,dxe4,Nxe4,Nxd4,Be3,Nxb3,axb3,Qd7,Qxd7,Bxd7,O-O,Rad8,Rfd1,Bc6,Rxd8,Rxd8,Rc1,Bxe4,f3,Bb7,Rxc7,Bxf3,gxf3,Bd6,Rc6,Be7,Rxa6,h6,Rb6,Rd3,Rb8+,Kh7,Kf2,Rxb3,Bc1,Bc5+,Kg3,f5,Rc8,Bd6+,Kg2,Kg6', 'Rc6,Rd3,Bf4', 'https://lichess.org/training/z7bZ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z7FXf', 'Blitz', 'cucarachita', 2098, 'vashilov', 2126, 'e4,d6,d4,Nf6,Bd3,g6,Nf3,Bg7,c3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Nbd7,Be3,c5,Qd1,Qa5,Re1,b5,a4,b4,Bb5,a6,Bxd7,Nxd7,Qf3,bxc3,bxc3,Rab8,Re2,Rb3,Bg5,Rfb8,Nd2,Rxc3,Qg4,Nf6,Bxf6,Bxf6,e5,dxe5,dxe5,Bg7,Ne4,Rcb3,f4,c4,Qd7,c3,Qxe7,Rb2,Ree1,c2,Nd6,Rb1,Qxf7+,Kh8,Raxb1,cxb1=Q,Rxb1,Rxb1+,Kh2,Qd8,Qa2,Qb6', 'Nf7+,Kg8,Nh6+,Kf8,Qf7#', 'https://lichess.org/training/Z7FXf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z7hQk', 'Rapid', 'mathijshuis', 1770, 'KingOfBears1', 1816, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Bd6,O-O,O-O,cxd5,cxd5,e4,dxe4,Nxe4,Nc6,a3,Rc8,Bg5,Be7,Rac1,h6,Bh4,Nxe4,Bxe7,Qxe7,Qxe4,Rfd8,Rfd1,Qf6,Ne5,Ne7,Ng4,Qf5,Qxf5,Nxf5,Rxc8,Rxc8,h3,Rd8,Rc1,Rd7,Ne5,Nxd4', 'Rc8+,Kh7,Nxd7', 'https://lichess.org/training/z7hQk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z7jGi', 'Rapid', 'newt1969', 1747, 'mohsenj88', 1729, 'd4,d5,c4,e6,Bf4,Bd6,Bxd6,cxd6,e3,a6,Nf3,Nf6,Be2,O-O,O-O,b6,b4,Bb7,a4,dxc4,Bxc4,Qc7,Nbd2,Ne4,Rc1,Qd7,b5,Rc8,Nxe4,Bxe4,Bd3', 'Rxc1,Qxc1,Bxd3', 'https://lichess.org/training/Z7jGi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z7JWR', 'Classical', 'D4N7E', 1776, 'Fairy_x', 1932, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Nf3,Nbd7,Be3,c5,d5,Nb6,Nd2,Bd7,h4,h5,Rg1,Qc7,g4,Bxg4,Bxg4,Nxg4,Bf4,Qd7,f3,Nf6,a4,e5,Bg5,Qh3,Qe2,Rfe8,O-O-O,Qd7,b3,a6,Rdf1,Qc7,Ndb1,Nbd7,f4,exf4,Rxf4,Ng4,Rgxg4,hxg4,Qxg4,Ne5,Qe2,Qd7,Qf1,Rf8,Bf6,Bxf6,Rxf6,Qg4,Rxd6,Qxh4,Nd2,Qg3,Kc2,Ng4,Qf3,Qxd6,Qxg4,Rfe8,Kd3,Qe5,Nf3,Qh5,Qxh5,gxh5,e5,Kg7,Ne4,b6,a5,bxa5,Nxc5,Rh8,Ne4,h4,d6,h3,Nh2,Rab8,Nc5,Rbe8,Kd4,Rh4+,Kd5,Rf4,d7,Rd8,e6,Rf5+', 'Kd6,fxe6,Nxe6+,Kh7,Nxd8', 'https://lichess.org/training/z7JWR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z7KPT', 'Classical', 'GrandCheikO-O-O', 1935, 'anobalita77', 1972, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,e5,Nd5,d4,Be6,c4,Nb6,b3,Bb4+,Ke2,Qh4,Be3,h5,a3,Bf8,f3,O-O-O,g3,Qe7,Bg2,f6,f4,g5,Rf1,Bg7,Nc3,fxe5,d5,exf4,gxf4,Bxc3,Rc1,gxf4,Rxf4,Rhg8,Bf3,cxd5,Rxc3,dxc4,Rd4,cxb3,Qd3,Rxd4,Qxd4,b2,Qe4,c6,Rxc6+,bxc6,Qxc6+,Qc7', 'Qxe6+,Qd7,Qxg8+', 'https://lichess.org/training/z7KPT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z7KZA', 'Rapid', 'ghippi', 1796, 'spasnick117', 1780, 'e4,e5,f4,exf4,Nf3,g5,h4,g4,Ne5,d5,Nxg4,dxe4,Bc4,Bg7,Qe2,Bf5,d3,Ne7,dxe4,Bc8,Bxf4,O-O,Nc3,a6,Rd1,Qe8,Bxc7,b5,Bb3,b4,Nd5,Nxd5,Bxd5,Ra7,Bxb8,Bxg4,Qxg4,Qxb8,h5,h6,Rf1,Qb6,b3', 'Qe3+,Qe2,Bc3+,Rd2,Bxd2+', 'https://lichess.org/training/Z7KZA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z7NKg', 'Rapid', 'andimalo', 1603, 'Applez10', 1620, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,e5,Ne4,Bd2,Bxc3,Bxc3,Qh4,O-O,Nxc3,bxc3,d5,Bb3,O-O,Qe2,Qg5,c4,Bh3,Qf3,Bg4,Qg3,Rae8,Rfe1,Kh8,cxd5,cxd5,Bxd5,Rd8,f4,Qf5,Be4,Qe6,h3,Bf5,Bxf5,Qxf5,Qf3,Qxc2,Rec1,Qb2,Rcb1,Qd2,Rb7', 'Qd4+,Kh2,Qxa1', 'https://lichess.org/training/z7NKg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z7Pc4', 'Rapid', 'pepeline84', 1667, 'kingslayer92', 1615, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,h5,c3,Ng4,d4,Bd6,Nbd2,exd4,cxd4,Nxd4,Nxd4,Bxh2+,Kh1,Qh4,N4f3,Nxf2+,Rxf2,Qxf2,Kxh2,h4,Qf1,Qg3+,Kh1,h3,Qe2,hxg2+,Kg1', 'Rh1#', 'https://lichess.org/training/z7Pc4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z7Ps4', 'Blitz', 'birana', 1946, 'Hafed1', 1941, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,g6,Nc3,Bg7,Re1,e5,d3,Ne7,a4,a5,Be3,b6,Qd2,O-O,Bh6,Bg4,Bxg7,Kxg7,Re3,Bxf3,Rxf3,f5,exf5,Rxf5,Qe3,Rxf3,Qxf3,Qd6,Re1,Rf8,Qe4,Qd4,Qxe5+,Qxe5,Rxe5,Nf5,Ne4,Nd4,Re7+,Kh6,c3,Nf5,Re6,Rd8,g4,Nh4,g5+,Kh5,f4,Rxd3', 'Nf6#', 'https://lichess.org/training/Z7Ps4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z7SNa', 'Classical', 'Azoha', 2146, 'daniil20070104', 2014, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Ngf3,c5,c3,Nc6,Bd3,Qb6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nf3,Qb6,Be3,Qd8,Rc1,Be7,a4,O-O,Qd2,b6,Bb1,Ba6,Rfe1,Bc5,b4,Bxe3,Rxe3,Qe7,b5,Bb7,Rc7,Rab8,Rec3,Rfc8,Rxc8+,Rxc8,Qc2,Rxc3', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/Z7SNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z7TfJ', 'Blitz', 'K30078', 1747, 'mikelbenaito', 1946, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,h6,h3,Bb4,Bd2,Nc6,Qe2+,Be6,O-O-O,Bxc3,Bxc3,Ne4,Qe1,Qe7,Bb5,O-O,Bxc6,bxc6,Bb4,Nd6,Ne5,Qe8,Qc3,Ne4,Qd3,Nxf2,Qe2,Nxh1,Rxh1,a5,Bxf8,Kxf8,Qd3,a4,Qh7,a3,bxa3,Rxa3,Qh8+,Ke7,Qxg7,Rxa2,Ng6+,Kd7,Ne5+,Kd6,Qxh6,Ra1+,Kb2,Rxh1,Qd2,Qa8', 'Qb4+,c5,Qxc5#', 'https://lichess.org/training/z7TfJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z7XsP', 'Blitz', 'Claudio81', 1942, 'tematicon', 2300, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Nc6,Nf3,g6,Bc4,Nxc3,bxc3,Bg7,O-O,O-O,Bg5,h6,Be3,e5,d5,Ne7,Qd2,Nf5,g4,Nxe3,fxe3,Bxg4,Kh1,Kh7,e4,c6,d6,b5,Be2,Qd7,Rad1,Rad8,Ng1,Be6,Nf3,f5,Nh4,f4,Rg1,g5,Nf5,Qf7,Bd3,a6,h4,Bf6,hxg5,Bxg5', 'Rxg5,hxg5,Qh2+,Kg8,Nh6+,Kg7,Nxf7', 'https://lichess.org/training/z7XsP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z7zKG', 'Classical', 'Abhinandan_Sahil', 1886, 'Borakrkyn', 1787, 'd4,d5,Bf4,Nf6,e3,Bf5,c4,e6,Nc3,Be7,Nf3,O-O,Nh4,Bg6,Nxg6,hxg6,cxd5,exd5,Bd3,c5,dxc5,Bxc5,O-O,Nc6,a3,a6,Qf3,d4,Ne4,Nxe4,Bxe4,dxe3,Bxe3,Bxe3,Qxe3,Re8,Qf3,Rc8,Bd5,Ne5,Qb3,b5,Rfd1,Qe7,h3,Rcd8,Re1,Qg5,Rxe5,Rxe5,Bxf7+,Kh8,Rf1,Rf8', 'f4,Qe7,fxe5', 'https://lichess.org/training/Z7zKG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z87BA', 'Blitz', 'al_fatih', 1716, 'mosco', 1726, 'Nf3,c5,d4,cxd4,Nxd4,Nc6,c4,g6,Nc3,Bg7,Nf3,d6,e3,Nf6,Bd3,O-O,O-O,e5,Nd5,Re8,e4,Nd7,Bg5,f6,Bh4,g5,Bg3,Nf8,Re1,Ng6,h3,Nf4,Bxf4,exf4,a3,g4,hxg4,Bxg4,b4,Qd7,Rb1,Nd4,Be2,Nxe2+,Qxe2,Re6,Qd3,Bxf3,Qxf3,Rae8,Nxf4,Re5,Rbd1,Qc6,Qd3,Rxe4,Rxe4,Qxe4,Nd5,f5,Qg3,Kh8,Qxd6', 'Qe1+,Rxe1,Rxe1+,Kh2,Be5+,Qxe5+,Rxe5', 'https://lichess.org/training/z87BA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z88aT', 'Blitz', 'dbestako24', 2391, 'Darth_Craft', 2201, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,dxc4,Bxc4,a6,Bg5,b5,Bb3,e6,Nf3,Bb7,O-O,b4,Na4,Nbd7,Qe2,Qa5,Rfe1,Nd5,Rac1,Bd6,Nc5,Nxc5,dxc5,Bxc5,Ne5,O-O,Nxf7,Rxf7,Qxe6,Bxf2+,Kh1,Bxe1,Rxe1,Rf8,Re5,Qb5,h4,Qf1+,Kh2,Nf4', 'Qxf7+,Rxf7,Re8#', 'https://lichess.org/training/z88aT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z88gW', 'Blitz', 'kleo87', 1689, 'bariloche', 2089, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,O-O,Be7,Nf3,O-O,Bg5,Qc7,e5,dxe5,Re1,Nc6,Bxf6,Bxf6,Be4,Rd8,Qe2,g6,Bxc6,bxc6,Nxe5,c5,Nf3,Bb7,Rad1,Rac8,Ne4,Bxb2,c3,Ba3,Rxd8+,Rxd8,Neg5,h6,Nh3,c4,Qe5,Bd6,Qe3,Bc5,Qxh6,Bxf3,gxf3,Bf8,Qe3,Rd3,Qe5,Qc6,Re3,Rd5,Qe4,Qa4,Kg2,Bc5,Re1,Qxa2,Ng5,Qd2,Qh4,Bxf2', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/z88gW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8A2Y', 'Classical', 'opqopq', 2051, 'elvin555', 1825, 'd4,f5,c4,Nf6,Nc3,e6,Qc2,Be7,e4,fxe4,Nxe4,O-O,Bd3,d5,Nxf6+,Bxf6,Bxh7+,Kh8,Qg6,Bxd4,Qh5,Rf6,Bg6+,Kg8,Qh7+,Kf8,Qh8+,Ke7,Qxd8+,Kxd8,Bg5,Bxb2,Bxf6+,gxf6,Rd1,Bc3+,Kf1,d4,Nf3,e5,h4,Be6,h5,Bxc4+,Bd3,Bxd3+,Rxd3,Ke7,h6,Nc6,h7,Rh8,Nh4,Kf7,Ng6,Kxg6,Rg3+,Kf7,Ke2,Ne7,Kd3,Ng6,Rh6,Nf4+,Ke4,d3,Kf5,d2', 'Rxf6+,Ke7,Rg7+,Kd8,Rg8+', 'https://lichess.org/training/z8A2Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8BNG', 'Classical', 'sharma1610', 2029, 'mattofy', 2060, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Be2,Bb4,Nb3,Nf6,f3,Qb6,Bd2,O-O,Na4,Bxd2+,Qxd2,Qb4,Qxb4,Nxb4,Bd3,b5,Nb6,Rb8,Nxc8,Rfxc8,Kd2,Rc7,c3,Nxd3,Kxd3,d5,e5,Nd7,f4,f6,Rhe1,fxe5,fxe5,Rf8,Nd4,Kf7,Rf1+,Ke7,Rxf8,Nxf8,Rf1,Ng6,Nf3,Rc4,g3,Re4,Re1', 'Nxe5+,Nxe5,Rxe1', 'https://lichess.org/training/z8BNG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8DBj', 'Rapid', 'gabrieloening', 1642, 'goupil54700', 1636, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nb3,Be6,O-O,Be7,f4,Nc6,fxe5,Nxe5,Bf4,Qb6+,Kh1,Nxd3,Qxd3,O-O,e5,dxe5,Bxe5,Rfd8,Qg3,Bd6,Bd4,Qc7,Qg5,Ne8,Ne4,Bxh2', 'Nf6+,Nxf6,Bxf6', 'https://lichess.org/training/z8DBj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8EDy', 'Blitz', 'Nepismen', 1857, 'ChessWetWipes', 2005, 'd4,d5,c4,dxc4,Nc3,Nc6,d5,Na5,e4,e6,Qa4+,c6,dxc6,Nxc6,Bxc4,Bd7,Bb5,a6,Bxc6,Bxc6,Qb3,Nf6,f3,Be7,Bg5,O-O,Nge2,Qa5,Bxf6,Bxf6,O-O,b5,a3,Qb6+,Kh1,a5,Rad1,b4,axb4,axb4,Rd2,Qe3,Qc2,bxc3,Nxc3,Rfc8,Rfd1,Ba4,b3,Rxc3,Qa2,Bc6', 'Qxa8+,Bxa8,Rd8+,Bxd8,Rxd8#', 'https://lichess.org/training/z8EDy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8Ffm', 'Rapid', 'cibis09', 2030, 'teguh111', 1941, 'd4,e6,c4,d5,Nc3,dxc4,e4,Nc6,Be3,Nge7,Bxc4,Ng6,Nge2,Be7,O-O,O-O,a3,a6,f4,Na5,Ba2,b5,b4,Nc4,Bxc4,bxc4,Qc2,Bb7,Ng3,a5,b5,c6,a4,cxb5,Nxb5,Ba6,Qxc4,Rc8,Qb3,Bxb5,axb5,Bb4,Rfd1', 'Rc3,Qa2,Rxe3', 'https://lichess.org/training/z8Ffm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8gOf', 'Rapid', 'mutleybg', 2064, 'BanginojFit', 2089, 'e4,e6,d4,c5,d5,exd5,exd5,d6,c4,Nf6,Nf3,h6,Bd3,Bg4,O-O,Be7,Bf4,Nbd7,Nbd2,O-O,Re1,Bxf3,Nxf3,Nh7,Qd2,Ng5,Nxg5,Bxg5,Bxg5,Qxg5,Qxg5,hxg5,Re3,Ne5,Rae1,Rad8,Bf1,a6,f3,f5,Kf2,f4,Rb3,Rb8,Rb6,Rf6,Rc1,g4,Rc3,g5,Ra3,Nd7,Rbb3,g3+,hxg3,fxg3+,Kxg3,Kg7,Rxa6', 'bxa6,Rxb8,Nxb8', 'https://lichess.org/training/z8gOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z8Ioj', 'Classical', 'meysam_haji', 1662, 'Nasirsb', 1691, 'b3,d5,Bb2,Nc6,d4,Bf5,Nf3,e6,e3,Nf6,Bd3,Bxd3,Qxd3,Nb4,Qb5+,c6,Qe2,Bd6,c3,Na6,O-O,O-O,c4,h6,c5,Be7,Nbd2,Qc7,Ne5,Ne4,Nxe4,dxe4,f3,exf3,Rxf3,Nb8,Rg3,f6,Ng6,Rf7,Qh5,Nd7,Nxe7+,Rxe7,Qxh6,Nb8,d5', 'Qxg3,hxg3,gxh6', 'https://lichess.org/training/Z8Ioj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z8jlU', 'Blitz', 'dimavila', 1841, 'volganin681989', 1988, 'd4,d5,c4,Nf6,Nc3,dxc4,e4,Bg4,f3,Bh5,Bxc4,Nc6,d5,Na5,Bb5+,c6,dxc6,Qxd1+,Nxd1,Nxc6,Bxc6+,bxc6,Ne2,e5,O-O,Nd7,Ng3,Bg6,Ne3,Bc5,Kh1,O-O,Nef5,Nb6,a3,Nc4,b4,Bd4,Ra2,a5,bxa5,Rxa5,Nxd4,exd4,Rc2,Nxa3,Rxc6,d3,Rd6,f5,Rxd3,Nc4,exf5,Bxf5,Nxf5,Rfxf5,Rd8+,Kf7,h3,Ra1,Rfd1,Rc5,Kh2,h6,R1d7+,Kf6,Bf4,g5,Bd6,Rb5,Be7+,Ke6,Bf8,Ra2,Bxh6,Ne3,Rd6+,Kf5,Rf8+,Ke5,Rd3', 'Rxg2+,Kh1,Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/Z8jlU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8lND', 'Rapid', 'dirva', 1710, 'URIY1970', 1741, 'd4,d5,c4,Bf5,e3,e6,Bd3,dxc4,Bxf5,exf5,Qa4+,Nc6,Qxc4,Bb4+,Nc3,Nge7,a3,Bxc3+,bxc3,Nd5,Nf3,Nb6,Qd3,g6,O-O,Qd5,Re1,O-O-O,e4,fxe4,Rxe4,f5,Re2,Nc4,Bg5,Rde8,Rae1,Rxe2,Rxe2,h6,Bf6,Rf8,Be5,N6xe5,Nxe5,Nxe5,Rxe5,Qa2,Qe2,Qxa3', 'Re8+,Kd7,Qe6#', 'https://lichess.org/training/z8lND');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8nPw', 'Blitz', 'NM Engr_arellano', 2252, 'NM JIL-BATCH4', 2415, 'c4,Nf6,Nf3,e6,g3,b6,Bg2,Bb7,O-O,d6,Nc3,Nbd7,d4,Be7,Re1,O-O,e4,e5,b4,a5,bxa5,Rxa5,Bb2,Qa8,dxe5,Nxe5,Nxe5,dxe5,Nd5,Nxd5,exd5,f6,Bh3,Kh8,Qb3,Bd6,a4,Bc8,Bg2,Bd7,Bc3,Rxa4,h4,h6,Be4,Qa6,Bc2,Ra8,Rxa4', 'Bxa4,Qxa4,Qxa4,Bxa4,Rxa4', 'https://lichess.org/training/z8nPw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8pbn', 'Rapid', 'phoenix1313', 2069, 'JavarisJamar', 2070, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,e6,Bg5,Nbd7,e3,h6,Bh4,Bd6,c5,Bc7,b4,e5,dxe5,Nxe5,Nd4,O-O,Bd3,Nxd3+,Qxd3,Be5,O-O,Re8,Nce2,Bg4,Rab1,Bh5,f4,Bc7,Ng3,Bg6,f5,Bh7,a4,Bxg3,hxg3,Re4,Rf4,Qe7,Rxe4,Qxe4,Qxe4,Nxe4,g4,g6,Rb2,Re8,Bf2,gxf5,gxf5,Re5,g4,Nc3,Rb3,Nxa4,Bg3,Re4,Bf4,Kg7,Kf2,b6,cxb6,axb6,Ra3,Nb2,Rb3,Nc4,Nxc6,h5,Kf3,hxg4+,Kxg4,Kf6,Nd4,Nd2,b5,Nxb3,Nxb3,Rb4,Nd4,Bg8,Bg5+,Kg7,Kf4,f6,Bh4,Ra4,Be1,Bf7,Bc3,Kf8,Kf3,Ke7,Nc6+,Kd6,Bxf6,Ra3', 'Be7+,Kc7,Bxa3', 'https://lichess.org/training/z8pbn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8Pkd', 'Rapid', 'Tchecov', 1904, 'POVODPVD', 2045, 'c4,b6,Nc3,Bb7,e4,e5,g3,Nf6,d3,Be7,Bg2,O-O,Nge2,d6,O-O,Nbd7,a3,Nc5,b4,Ne6,Bb2,c5,b5,Nd4,Nxd4,cxd4,Nd5,Bxd5,exd5,Nd7,f4,f6,Bh3,Nc5,a4,Qc7,Ba3,Kh8,Bxc5,dxc5,Be6,Bd6,f5,Rae8,Qh5,Re7,Rae1,Qd8,Re4,Qe8', 'Qxh7+,Kxh7,Rh4+,Qh5,Rxh5#', 'https://lichess.org/training/z8Pkd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8pqj', 'Rapid', 'drunkenstein12', 1906, 'JC-BLACK', 1921, 'e4,e5,f4,f6,Nf3,Nc6,Bc4,Bc5,fxe5,fxe5,Rf1,Nf6,Ng5,Rf8,Nc3,d6,Nd5,Bg4,Nxf6+,gxf6,Qxg4,fxg5,Qe6+,Qe7', 'Rxf8+,Kxf8,Qg8#', 'https://lichess.org/training/z8pqj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z8Qxp', 'Blitz', 'kevic_maldonado', 2029, 'NM Supelyel', 2431, 'd4,Nf6,Bg5,e6,e4,h6,Bxf6,Qxf6,Nf3,d6,Bd3,e5,d5,Bg4,Nbd2,Bxf3,Nxf3,c6,c4,Nd7,O-O,Qd8,Qa4,Nc5,Qc2,a5,Be2,Be7,Rad1,O-O,Rd2,Qc7,Rfd1,Rfd8,b3,Bg5,Nxg5,hxg5,Bf3,cxd5,Rxd5,Ne6,Qd2,Nd4,Qxg5,b6,h4,Re8,Bg4,a4,Qe3,axb3,axb3,Ra3,Rd3,Qe7,g3,Ra2,Rd2,Rf8,Rxa2,Qf6,Kg2,g6,Bd7,Kg7,Ba4,Ne6,Rxd6,Rh8,Qxb6,g5,hxg5,Qxg5,Rxe6,Qh5,Kf1', 'Qd1+,Kg2,Qh1#', 'https://lichess.org/training/Z8Qxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z8Rud', 'Blitz', 'FM La_Jul', 2406, 'Cheetah2009', 2378, 'e4,c6,Nf3,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Bg4,Be2,Nd7,Ne1,Bxe2+,Kxe2,O-O-O,Nd3,e5,Be3,Kb8,Nd2,g6,Nc4,Bg7,a4,Ne7,Rhb1,f5,f3,fxe4,fxe4,Nf6,Ndxe5,Rhe8,Bf4,Ka8,a5,a6,Nb6+,Ka7,Be3,Kb8,Rd1,Nc8,Nf7,Rxd1,Rxd1,Nxb6,axb6,Nxe4,Kf3,c5,Bf4+,Kc8,Re1', 'Ng5+,Bxg5,Rxe1', 'https://lichess.org/training/Z8Rud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z8SdA', 'Classical', 'PETYAKDMYTRO1005', 1610, 'fafa2010', 1663, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,O-O-O,h3,Bxf3,Bxf3,Qe6,Re1,Qg6,c3,Ne5,d4,Nxf3+,Qxf3,e6,a3,Bd6,b4,Rhg8,Bf4,Bxf4,Qxf4,Rd5,Re5,Rxe5,Qxe5,Rd8,b5,Rd5,Qe2,Rg5,g4,f5,f3,h5,f4,fxg4,fxg5,gxh3,Kh2,Qxg5,Rg1,Qf4+,Rg3,h4,Qxe6+,Kd8,Qg8+,Ke7,Qxg7+,Ke6,Qg6+,Ke7,Qh7+,Ke6,Qg6+,Ke7,Qg7+,Ke6,Qe5+', 'Qxe5,dxe5,hxg3+', 'https://lichess.org/training/Z8SdA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8SWw', 'Blitz', 'YuryLu', 2204, 'Bigbertan', 2189, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Nc6,Ngf3,cxd4,cxd4,f6,Bd3,Qb6,Nb3,Be7,Qe2,fxe5,fxe5,Bb4+,Bd2,Bxd2+,Qxd2,Qb4,O-O,Qxd2,Nbxd2,Nb6,Nb3,O-O,Ng5,h6', 'Bh7+,Kh8,Rxf8#', 'https://lichess.org/training/z8SWw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z8TvI', 'Rapid', 'Rene118', 1708, 'Sycret', 1710, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,d6,Nc3,Nf6,Qg3,Be6,Be2,Qd7,Be3,O-O-O,h3,Kb8,O-O-O,Qc8,Kb1,g6,Bb5,Ne5,f4,Ned7,Nf3,c6,Bd3,Be7,f5,gxf5,exf5,Bd5,Nxd5,Nxd5,Bd4,Bf6,Bxf6,N7xf6,Qf2,Qc7,g4,Rhe8,Rhe1,Nd7,a3,f6,Bc4,N5b6,Be6,Ne5,Nxe5,dxe5,Rd2,Rxd2,Qxd2,Rd8,Qe2,Nd5,Rd1,Nf4,Rxd8+,Qxd8,Qe3,Qd1+,Ka2,Ne2,Bc4', 'Nc1+,Qxc1,Qxc1', 'https://lichess.org/training/Z8TvI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8UsG', 'Rapid', 'A_demola', 1940, 'Wickedpawn', 2213, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,h3,a6,O-O,Bd7,Be3,Nc6,Qd2,Rc8,Nde2,Re8,Bh6,Bh8,f4,Qb6+,Kh2,Qxb2,Rab1,Qa3,Rxb7,Na5,Ra7,Rxc3,Qxc3', 'Ng4+,hxg4,Bxc3', 'https://lichess.org/training/z8UsG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8UY3', 'Classical', 'sg0802', 2157, 'garry321', 1873, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Be2,b6,O-O,Bb7,Qe3,Nd7,Rfd1,Nf6,Bd3,Rc8,Rac1,Qd7,Ne5,Qe7,Bb1,Nd7,Nc4,f6,e5,f5,Nd6,Rxc1,Rxc1,Bd5,Rc7,a5,a3,h6,Bd3,f4,Qh3,Rd8,Bb5,f3,gxf3,Qg5+,Kf1,Nf8,Nf7,Qd2,Nxd8,Ng6,Qg4,Kh7,Be8', 'Qd1+,Kg2,Bxf3+,Qxf3,Nh4+', 'https://lichess.org/training/z8UY3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8v11', 'Rapid', 'Tho_Macholank', 2035, 'jhonrhiz', 2062, 'b4,Nf6,Bb2,Nc6,b5,Na5,e3,c6,a4,a6,Nf3,e6,Bd3,Bd6,e4,Bf4,g3,Bh6,O-O,O-O,bxa6,bxa6,Na3,d5,exd5,exd5,Ne5,Bh3,Re1,Qd6,Bc3,Nb7,Qf3,Nc5,Bb4,Rab8,Bxc5,Qxc5,Red1,Rfe8,Re1,Bxd2,Re2,Bc3,Ra2,Bxe5,Bf5,Qxa3,Rxa3', 'Rb1+,Re1,Rxe1#', 'https://lichess.org/training/z8v11');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z8w2U', 'Rapid', 'Douglas-Hayne', 1978, 'vopaev', 2002, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,f4,Bb4,Nf3,Qc7,Qb3,Bxc3+,bxc3,Ne7,Bd3,O-O,O-O,Qb6+,Qxb6,axb6,Be3,d5,Bxb6,dxe4,Bxe4,Nd7,Bd4,Nc6,Be3,Nf6,Bc2,Nd5,Bc5,Re8,Ng5,h6,Ne4,b6,Bd4,Nxd4,cxd4,Ne3,Rfc1,Nxc2,Rxc2,Rd8,Rac1,Bb7,Nc3,Bd5,Nxd5,Rxd5,Rd1,Ra4,Rb2,b5,g3,Kh7,Kf2,Kg6,Kf3,h5,Rbd2,Ra3+,Kg2,b4,Rb2,f6,Rdd2,Ra4,Kh3,Rb5,Re2,Rd5,Red2,Rb5,Re2,Kf7,Kg2,b3,axb3,Rxd4,Kf3,Rd3+,Re3,Rd4,Re4,Rd3+,Re3,Rd1,Rbe2,Rb1,Rxe6,R1xb3+,R6e3,Rxe3+,Rxe3,Rb1,Re2,Kg6,Kg2,Kf5,Kf3,Rb3+,Re3', 'Rxe3+,Kxe3,Kg4', 'https://lichess.org/training/z8w2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z8WOX', 'Classical', 'Leyla_Mirzaliyeva', 1994, 'Ralf_Krishna', 2099, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f4,e5,Nb3,Nbd7,Be3,Be7,Qf3,Qc7,O-O-O,b5,g4,exf4,Qxf4,Bb7,Nd4,g6,g5,Nh5,Qf2,Ne5,Bf4,O-O,Rg1,Nxf4,Qxf4,b4,Nce2,Rac8,Bh3,Rb8,Qh4,Rfe8,Kb1,Bf8,b3,Bg7,Rg3,Qc5,Be6,fxe6,Rh3,h5,gxh6,Bf8,Qf6,Qc7', 'h7+,Qxh7,Rxh7', 'https://lichess.org/training/Z8WOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z8y2p', 'Blitz', 'karlin99', 2200, 'azmihabibi', 2216, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Ne2,d5,exd5,Nxd5,a3,Bd6,c4,Nf6,Nbc3,O-O,h3,Ne5,b3,a6,Bc2,b5,cxb5,axb5,Bb2,b4,axb4,Rxa1,Bxa1,Bb7,O-O,Qb8,b5,Nf3+,Kh1,Nh4,f3,Rd8,Qe1,Nf5,Ne4,Nxe4,fxe4,Ne3,Qc3,f6,Qxe3,Rc8,Bd3,Bc5,Qf3,Qd6,Bc4,Ba7,Ng3,Bb8,e5,Qc7,Qe3,fxe5,Bxe6+,Kh8,Bxc8,Qxc8,Bxe5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/Z8y2p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z92is', 'Rapid', 'varano15', 1608, 'game13', 1700, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Nxe5,Bxc3,bxc3,Nxe4,Qg4,Ng5,Nxf7,Kxf7,Bc4+,d5,Qf4+,Ke8,O-O,dxc4,Re1+,Be6,d4,h6,h4,Rf8,Qg4,Qf6,Kh1,Qxf2,Rxe6+,Nxe6,Qg6+,Kd7,Ba3,Qxh4+,Kg1,Qf2+,Kh2,Rf6,Qg4,h5,Qh3,g5,d5,Nc6', 'dxe6+,Rxe6,Rd1+,Nd4,Rxd4+,Qxd4,cxd4', 'https://lichess.org/training/z92is');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z93Ne', 'Rapid', 'STRONGKNIGHT1969', 2151, 'CM JLEnamorado', 1982, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,Nbd7,cxd5,exd5,Bd3,c6,O-O,Re8,Qc2,Ne4,Bxe7,Qxe7,Nd2,Nxd2,Bxh7+,Kh8,Qxd2,g6,Bxg6,fxg6,Rae1,Nf6,f4,Bf5,h3,Be4,Qf2,Kg7,Qg3,Nh5,Qf2,Rf8,g4,Nf6,f5,Rh8,g5,gxf5,gxf6+,Kxf6,Qf4,Rag8+,Kf2', 'Rg2#', 'https://lichess.org/training/Z93Ne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z98Vk', 'Rapid', 'goat42', 1754, 'kamtek', 1737, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Nf6,Nc3,Bf5,e3,e6,Bd3,Bg4,Qa4+,Nc6,Bb5,Qd7,Nge2,a6,Bd3,b5,Qd1,Bb4,a3,Bxc3+,bxc3,O-O,h3,Bh5,O-O,Ne4,Qc2,f6,Ng3,Nxg3,Bxg3,e5,Bxh7+,Kh8,Bf5,Qe7,Qb3,Rad8,Rac1,Be2,Rfe1,Bh5,f3,g6,Bg4,Bxg4,fxg4,f5,Rf1,f4,exf4,exf4,Bxf4', 'Rxf4,Rxf4,Qe3+,Rf2,Qxc1+', 'https://lichess.org/training/Z98Vk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z9a2W', 'Classical', 'Aventuros_pl', 1633, 'Abencherqui', 1897, 'e4,c5,Nf3,e6,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Bg5,Be7,Bb5,Nxe4,Bxe7,Qxe7,Nbd2,Nxd2,Qxd2,O-O,O-O,a6,Bxc6,dxc6,Qc3,c5,Rad1,b5,a3,Bb7,Ne5,Rfd8,h3,f6,Rxd8+,Rxd8,Ng4,b4,axb4,cxb4,Qe3,Rc8,c3,bxc3,bxc3,a5,Ra1,Rc5,Rb1,e5', 'Rxb7,Qxb7,Qxc5', 'https://lichess.org/training/z9a2W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z9dwg', 'Blitz', 'BMS50', 1779, 'schnusel', 1675, 'e4,c5,f4,Nc6,Nf3,e6,Bc4,g6,a3,Bg7,O-O,Nge7,d3,d5,Bb5,O-O,e5,Nf5,Nc3,Qb6,Kh1,a6,Ba4,Ncd4,Nxd4,cxd4,Ne2,Ne3,Bxe3,dxe3,Bb3,d4,Rb1,Qd8,c3,dxc3,bxc3,Qd7,d4,b5,Qd3,Bb7,Qxe3,Qe7,a4,Qh4,axb5,Qg4,Ng3,axb5,h3', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/Z9dwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z9gEZ', 'Blitz', 'kcc10', 2333, 'NM rickyrich', 2211, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nf6,Nf3,Bg4,Be2,e6,O-O,cxd4,cxd4,Be7,Nc3,Qd6,h3,Bh5,Be3,O-O,Ne5,Bxe2,Qxe2,Nbd7,Nxd7,Qxd7,Rfd1,Rfd8,Rac1,Rac8,Qf3,a6,a3,b5,Bg5,Nd5,Ne4,Bxg5,Nxg5,h6,Ne4,Rxc1,Rxc1,Nb6,Rc2,Qxd4', 'Rd2,Qxd2,Nxd2', 'https://lichess.org/training/z9gEZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z9h53', 'Blitz', 'flashman03', 1972, 'AZD112', 1930, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,g6,Be3,Bg7,Qd2,a6,h4,Bd7,O-O-O,Nf6,f3,b5,g4,b4,Nce2,a5,Kb1,Qc7,Nxc6,Bxc6,Nd4,Bd7,h5,Rb8,hxg6,hxg6,Rxh8+,Bxh8,Bd3,a4,Rh1,Bg7,Qh2,e5,g5,Nh5,Ne2,b3,cxb3,axb3,a3,Bb5,Bxb5+,Rxb5,Nc3,Rb8,Rc1,Qc4,Qd2,Qe6,Nd5,Kf8,Qc3,Kg8,Qc7,Rf8,Bd2,Qh3,Bb4,Qxf3,Bxd6', 'Qxe4+,Ka1,Qxd5,Bxf8,Bxf8', 'https://lichess.org/training/z9h53');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z9H91', 'Rapid', 'Phoenice', 1893, 'worldwidewoot', 1893, 'e4,c5,Nf3,d6,Nc3,Nc6,Bc4,e5,Nd5,h6,a3,Nf6,d3,Be6,Nxf6+,Qxf6,Bxe6,Qxe6,Be3,Be7,O-O,O-O,Re1,b5,c3,a5,d4,cxd4,cxd4,exd4,Bxd4,Bf6,Bxf6,Qxf6,Rb1,a4,Qd5,Na7,Nd4,Rab8,Nf5,Rb6,Red1,Rd8,Rd4,Kh7,Rb4,g6,Nd4,Re8,f3,Re5,Qa8,Nc6,Nxc6,Rxc6,Qxc6,Rc5,Qa6,Qf4,Rd1,Qe3+,Kh1,Rc1,Qxd6', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/Z9H91');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z9hge', 'Rapid', 'caduzon', 1663, 'Leruoc', 1903, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Nxe4,d5,Bxd5,Qxd5,d3,Bg4,O-O,Nd4,Ned2,O-O-O,c3,Nxf3+,Nxf3,Qxd3', 'Qxd3,Rxd3,Nxe5', 'https://lichess.org/training/Z9hge');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z9HIz', 'Rapid', 'victorband', 2149, 'XTREND53', 2168, 'c4,Nf6,Nc3,g6,d4,Bg7,Nf3,O-O,e4,d6,Be2,Nbd7,O-O,c6,Be3,Qc7,Nd2,e5,d5,a5,b3,Nc5,a3,cxd5,Nxd5,Nxd5,cxd5,f5,f3,b6,Rc1,Qd8,b4,axb4,axb4,Na6,Qb3,Bb7,Nc4,b5,Na5,Bc8,Bxb5,Nxb4,Qxb4,Qxa5,Qxa5,Rxa5,Bc6,Ba6,Rfe1,fxe4,fxe4,Ra2,Ra1,Rxa1,Rxa1,Bd3,Bg5,Bf6,Bh6,Rb8,g4,Rb1+,Rxb1,Bxb1,g5,Be7,Bd7,Bxe4,Be6+,Kh8,Kf2,Bd8,Ke3,Bf5,h4,Bb6+,Kf3,Bd4,Bf8,e4+,Ke2,Be5,Be7,Bxe6,dxe6,Kg8,Bf6,Bxf6,gxf6,d5,Ke3,h6,Kd4,g5,hxg5,hxg5,f7+,Kf8,Ke5,e3', 'Kf6,e2,e7#', 'https://lichess.org/training/z9HIz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z9I2f', 'Rapid', 'massimoprisco', 2012, 'stedak', 2069, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,c3,d6,d4,Nxe4,dxe5,dxe5,Bd5,Nf6,Bxc6+,bxc6,Nxe5,Bb7,Nxf7', 'Qxd1,Rxd1,Kxf7', 'https://lichess.org/training/Z9I2f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z9iba', 'Rapid', 'smallman', 1627, 'mariachi2851', 1625, 'e3,e6,b3,a6,Bb2,b5,Qe2,Nf6,Nc3,Nc6,O-O-O,Bb7,Nf3,Nb4,Kb1,c5,h4,c4,Ng5,h6,Nf3,Bxf3,gxf3,Bd6,Bh3,Be5,f4,Bxc3,dxc3,Nbd5,f3,O-O,Rhg1,Qa5,Qg2,g6,f5,Nxc3+', 'Bxc3,Qxc3,fxg6', 'https://lichess.org/training/Z9iba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z9nht', 'Bullet', 'IM CarlosPinero', 2547, 'Juancrudo', 2149, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,Nf6,e5,Nd5,Nc3,Nb6,h4,h5,Bg5,d6,Bb5+,Bd7,Qe2,O-O,exd6,Bxb5,dxe7,Bxe2,exd8=Q,Rxd8,Bxd8,Bxf3,gxf3,Nc6,Bxb6,axb6,d5,Nd4,O-O-O,Nxf3,Rh3,Ne5,Kb1,Ng4,Rd2,Re8,d6,Ne5,Nb5,Nc4,Rd5,Bxb2,d7,Rd8,f4,Bf6,f5,Ne5,fxg6,fxg6,Rd6,Kf7,Rxb6,Rxd7,Nc3,Nc4,Rxf6+,Kxf6,Rf3+,Kg7,Kc2,Rd2+,Kb3,Ne5,Re3,Kf6', 'Ne4+,Kf5,Nxd2', 'https://lichess.org/training/z9nht');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z9Nws', 'Blitz', 'FM Isurox', 2222, 'JudeSamarasinghe', 2257, 'Nf3,e6,d4,f5,Nc3,Nf6,Bg5,d5,e3,c6,Bd3,Bd6,O-O,O-O,Ne2,Nbd7,Bf4,Bxf4,Nxf4,Qe8,c3,Ne4,Bxe4,fxe4,Ne5,Nxe5,dxe5,Rf5,Qd4,Qd8,f3,exf3,Rxf3,Bd7,Raf1,Qc7,Nd3,Rxf3,Rxf3,Be8,Qf4,Bg6,Nc5,Qe7,Qb4,b6,Na6,Qxb4,Nxb4,Rc8,a4,c5,Na2,Bc2,Rf4,c4,Nb4,Bxa4,e4,a5,Nxd5,exd5,exd5,Re8,e6,b5,Re4,b4,Rxc4,Bb3,Rc5,bxc3,bxc3,a4,Ra5,Kf8,Kf2,Ke7,Ke3,Kd6,Kd4,Rc8,Ra6+,Ke7,Ra7+,Kf6,Rf7+,Kg6,Ra7,Rc4+,Ke5,Rxc3,d6,Re3+,Kd4,Rxe6,d7,Rd6+,Kc5,Rd1', 'Ra6+,Kf5,Rd6,Rxd6,Kxd6', 'https://lichess.org/training/z9Nws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z9PIB', 'Rapid', 'drekk', 1713, 'Lightforge', 1778, 'e4,e5,d4,exd4,Bc4,Nc6,Nf3,Bb4+,c3,dxc3,bxc3,Bc5,O-O,d6,e5,Nxe5,Nxe5,dxe5,Bxf7+,Ke7,Qf3,Nf6,Rd1,Qf8,Bb3,Bg4,Qxb7,Bxf2+,Kh1,Bxd1,Ba3+,Kd7,Bxf8,Rhxf8,Bxd1,Bb6,Ba4+,Kd6,Na3,Rad8,Rd1+,Ke7,Rxd8,Rxd8,g3,g5,Nc4,Rd1+,Kg2,Rg1+,Kh3,g4+,Kh4,Rh1,Nxb6', 'Rxh2+,Kg5,Rh5#', 'https://lichess.org/training/z9PIB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z9yan', 'Rapid', 'RabbitJr', 1890, 'LX2019', 1948, 'e4,e5,Nc3,Nf6,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,O-O,Bg4,d3,h6,Na4,Bd6,d4,Nxe4,dxe5,Bxe5,Qxd8+,Rxd8,Nxe5,Be2,Re1,O-O,Bxh6,Bb5,Rxe4,gxh6,Rg4+,Kh7,Nc3,h5,Rh4,Kh6,g4,Kg5,Rxh5+,Kf4,Nd3+,Bxd3,cxd3,Rxd3,Ne2+,Kf3,Re1,Kxg4,h3+,Kxh5,Nf4+,Kh4,Nxd3,Kxh3,f4,Rg8+,Kf2,Kh2,f5,Rg5,Nf4,Rxf5,Kf3,b5,Re2+,Kg1,Kg4,Rc5,Nh3+,Kf1,Rf2+,Ke1,Rh2,f5+,Kf4,Kd1', 'Nf2+,Kc1,Nd3+', 'https://lichess.org/training/z9yan');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Z9yjs', 'Blitz', 'RufusLee00', 1669, 'n2b11', 1638, 'e4,c5,f4,Nc6,Nf3,e6,Bc4,d5,exd5,exd5,Be2,Bd6,O-O,Nge7,d3,Qc7,Nc3,Bxf4,Bxf4,Qxf4,Nb5,O-O,d4,Qe3+,Kh1,c4,Ne5,Nxe5,dxe5,Qxe5,Bf3,Be6,Re1,Qxb2,Rb1,Qf6,Nc7,Rac8,Nxd5,Bxd5,Bxd5,Nxd5,Qxd5,b6,Rf1,Qc6,Qf5,Rc7,Rbe1,Qc5,Re5,Qd6,Re3,Rc5,Qf2,Qd4', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/Z9yjs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('z9YOJ', 'Blitz', 'M-P-M', 2327, 'ThiKu', 2004, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,c3,d6,d4,exd4,cxd4,Bb6,d5,Ne5,Nxe5,dxe5,Bg5,h6,Bh4,g5,Bg3,Bg4,Qa4+,Bd7,Bb5,Nxe4,Bxe5,Rg8,Bxd7+,Qxd7,Qxe4,O-O-O,Nc3,Rge8,a4,f6,a5,Bc5,Qc4,Bxf2+,Rxf2,Rxe5,Nb5,a6,Nc3,f5,Raf1,f4,Rf3,Rde8,Rd3,Qd6,Qb3,Qc5+,Kh1,Re1,Rd1,R1e3,Qc2,Qxa5,Qg6,Qb6,d6,cxd6,Rxd6,Re1,Qf5+,Kb8,Rd1,Qf2,Rdxe1', 'Rxe1,Qf8+,Ka7,Qc5+,Qxc5', 'https://lichess.org/training/z9YOJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('za01l', 'Rapid', 'flo1980', 1923, 'WadeWilson', 2029, 'b3,e5,Bb2,Nc6,e3,Nf6,Bb5,e4,g4,d5,g5,Bg4,f3,exf3,gxf6', 'f2+,Kxf2,Bxd1', 'https://lichess.org/training/za01l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Za1uR', 'Blitz', 'mohammad1361', 1637, 'threadneedlestreet', 1583, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bg5,Bg4,Be2,Bxe2,Qxe2,e6,Bxf6,Qxf6,O-O-O,Bb4,d5,O-O,dxe6,Bxc3,exf7+,Rxf7,bxc3,Qxc3', 'Rd8+,Rf8,Qe6+,Kh8,Rxf8#', 'https://lichess.org/training/Za1uR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Za1Ut', 'Rapid', 'barish2', 1658, 'hitsujyun', 1802, 'e4,e6,d4,d5,exd5,Qxd5,Nf3,Nf6,Bg5,Nbd7,Nc3,Bb4,Qd2,Bxc3,Qxc3,Ne4,Qxc7', 'Nxg5,Nxg5,Qxg5', 'https://lichess.org/training/Za1Ut');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZA3hD', 'Rapid', 'Aleksandr-2009', 1744, 'dimbak275', 1614, 'd4,Nf6,Bg5,Ne4,Bf4,Nc6,c4,d5,f3,g5,fxe4,gxf4,exd5,Nb4,Qa4+,Bd7,Qxb4,e5,Qxb7,Rb8,Qa6,Rxb2,dxe5,Qh4+,Kd1,Qf2,Nf3,Rg8,Nbd2,Rg6,Qa5', 'Bb4,Qxb4,Rxb4', 'https://lichess.org/training/ZA3hD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('za5tR', 'Rapid', 'Fidelio_chess', 1618, 'SvenSvenSven', 1543, 'e4,e5,Nc3,c6,Bc4,b5,Bxf7+,Kxf7,Qf3+,Nf6,d3,d6,Bg5,Bg4,Qe3,Nbd7,f3,Be6,O-O-O,h6,Bh4,g5,Bf2,h5,h4,g4,fxg4,Bxg4,Re1,c5,Nh3,Bh6,Ng5+,Ke7,Nd5+,Nxd5,exd5,Qa5,Kb1,b4,b3,Nf6,Qg3,Nxd5', 'Rxe5+,dxe5,Qxe5+,Kd7,Qxd5+', 'https://lichess.org/training/za5tR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zA5wo', 'Rapid', 'gangganok', 1693, 'WindFlair', 1771, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Bxd3,Qxd3,Nd7,O-O,Ne7,Ng5,h6,Nf3,Nf5,c4,b6,Nc3,Be7,Re1,O-O,g4,Nh4,cxd5,cxd5,Nxh4,Bxh4,Bf4,g5,Be3,f6,exf6,Qxf6,Rf1,Qf3,Qg6+,Kh8,Qxh6+,Kg8,Qxe6+,Kg7,Qxd7+,Rf7,Qe6,Re8,Qxd5,Qxg4+,Qg2,Qe6,Bxg5,Bxg5,Qxg5+,Kf8,Qh4,Qg6+,Qg3,Qc2,Qh4,Qxb2,Ne4,Qxd4,Rae1,Rg7+,Ng3', 'Qxh4,Rxe8+,Kxe8', 'https://lichess.org/training/zA5wo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zA7Ln', 'Blitz', 'iAteMyPawn', 1628, 'SkinnyFat', 1629, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,e5,Nf3,Bg4,O-O,Be7,h3,Be6,Bxe6,fxe6,Re1,O-O,Bg5,Nc6,Qe2,Nd4,Nxd4,exd4,Nb1,e5,c3,Nd7,Bxe7,Qxe7,cxd4,exd4,Qd3,Qf6,Nd2,Qxf2+,Kh1,Ne5,Qb3+,Rf7,Rf1,Qxd2,Rxf7,Nxf7,Rf1,Rf8,Qe6,Qh6,Qd5,Qg6,Qxd4,Ne5,Qd5+,Rf7', 'Qa8+,Rf8,Qxf8#', 'https://lichess.org/training/zA7Ln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Za7R2', 'Rapid', 'dimas1042', 1978, 'Berong', 1998, 'e4,c5,Nf3,e6,c3,Nf6,e5,Ng4,h3,Nh6,d4,Nf5,Bd3,Nh4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/Za7R2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAax2', 'Rapid', 'fisher2017', 1601, 'jjnnm', 1716, 'e4,e5,d3,f5,Nf3,Nc6,exf5,d5,g4,Nf6,h3,h6,Bd2,Bd6,Nc3,h5,a3,hxg4,Qe2,gxf3,Qd1,Nd4,Bg5,Rh5,Bxf6,gxf6,Nxd5,Bxf5,c3,Nc6', 'Qxf3,Rh6,Qxf5', 'https://lichess.org/training/zAax2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAbfI', 'Rapid', 'Timislov', 2007, 'melonhead13', 2081, 'd4,g6,Bf4,Bg7,e3,d6,Nf3,Nd7,c3,e5,dxe5,dxe5,Bg3,Ne7,Bc4,O-O,Nbd2,Kh8,h4,f5,h5,f4,Bh4,Qe8,Bxe7,Qxe7,hxg6,h6,Ne4,Nb6,Bb3,Bf5,Nfg5,Bxg6,Ne6,Bxe4,Qh5,Rf5,Qxh6+,Bxh6,Rxh6+,Kg8,Ng5+,Kg7,Rh7+,Kf6', 'Nxe4+,Kg6,Rxe7', 'https://lichess.org/training/zAbfI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAboq', 'Blitz', 'Ct86', 1673, 'cranmer1959', 1639, 'e4,e5,Nf3,Nf6,Bc4,d6,d4,Be7,h3,O-O,O-O,Nxe4,Nc3,Nxc3,bxc3,Bf6,Re1,Nc6,Bb2,exd4,cxd4,a6,Rb1,Bf5,d5,Nb4,Nd4,Bxd4,Qxd4,f6,Bd3,Nxc2,Bxf5,Nxe1,Be6+,Kh8,Rxe1,Re8,Qg4,c6,Qh4,cxd5,f4,Qb6+,Kh2,Qxb2,Bf5,h6,Rb1,Qxa2,Rxb7,Qc4,Rxg7,Kxg7,Qg4+,Kf7,Qg6+,Ke7', 'Qg7+,Kd8,Qd7#', 'https://lichess.org/training/zAboq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zADiM', 'Blitz', 'Tolik55', 1736, 'BronxWiseGuy', 1718, 'e4,c5,e5,g6,f4,Nc6,Nf3,b6,Bb5,Bb7,Bxc6,Bxc6,O-O,e6,d3,Ne7,b3,Nd5,Nc3,Nxc3,Qe1,Nd5,a3,Bh6,c4,Nxf4,Qf2,Nxd3,Qg3,Nxc1,Rfxc1,Bxc1,Rxc1,Bxf3,Qxf3,Qg5,Rd1,O-O,Rxd7,Qxe5,h3,Qa1+,Kh2,Qxa3,h4,h5,Qe3,Kg7,Qxe6,Qxb3,Qe5+,Kg8,Qd5,a5,Rd6,a4', 'Rxg6+,Kh7,Qxh5#', 'https://lichess.org/training/zADiM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zae9m', 'Bullet', 'Hlebbi74', 1914, 'Jamesdrc', 1906, 'e4,c5,Nc3,d6,Bb5+,Bd7,Bxd7+,Qxd7,f4,Nc6,Nf3,f5,exf5,Qxf5,d3,Nf6,O-O,h6,Bd2,g5,fxg5,hxg5,Nxg5,Qd7,Nce4,O-O-O,b4,cxb4,a3,b3,cxb3,Nxe4,Nxe4,Bg7,Rc1,Bd4+,Nf2,e5,b4,Rxh2,Kxh2,Qh7+,Nh3,Rg8,b5,Qxd3,bxc6', 'Qg3+,Kh1,Qxg2#', 'https://lichess.org/training/zae9m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zaeQ7', 'Rapid', 'themissinglink816', 1712, 'aoi851', 1753, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Bd7,Nc3,Nd5,Nge4,f5,Nxd5,cxd5,Bxd7+,Qxd7,Nc3,d4,Ne2,Bd6,d3,O-O,O-O,f4,Bd2,Nc6,Nc1,Qe6,Nb3,Qf6,Qf3,Ne7,Ba5,Nf5,Nd2,Nh4,Qh3,Be7,Ne4,Qg6,a3,f3,g3,Ng2,Bb4,Bxb4,axb4,Nf4,Qd7,Rfd8,Qb5,Qh5,Kh1,Qh3,Rg1,Ne2,Qxe5,Nxg1,Rxg1,Rf8,Qxd4,Rfd8,Qe5,Re8,Qd4,Red8,Qe3,Rf8,Qd4,a5,b5,Rfd8,Qe3,Rf8,Qd4,Rab8,b6,Rf5,Qc4+,Kh8,Qc7', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/zaeQ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZaFAv', 'Rapid', 'oy2357', 1893, 'bangirex3', 1906, 'e4,e6,f4,c5,Nf3,Nc6,Bb5,d6,O-O,g6,d3,Bg7,Nc3,Ne7,e5,d5,Na4,b6,Qe2,O-O,Ng5,Bb7,c3,Nb8,d4,cxd4,cxd4,Nbc6,Qf3,Nxd4,Qh3,h6,Bd3,hxg5,fxg5,Ndf5,Bxf5,Nxf5,Nc3,Bxe5,Ne2,Kg7,Bf4,Bxf4,Nxf4,Rh8,Qc3+,d4,Qc2,Ne3,Qxg6+,fxg6,Nxe6+,Kh7', 'Rf7+,Kg8,Rg7#', 'https://lichess.org/training/ZaFAv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZaFDh', 'Blitz', 'IM sopueyz', 2649, 'Han80', 2246, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,f3,g6,Be3,Qb6,Qd2,Qxb2,Rb1,Qa3,Ncb5,Qxa2,Qc3,Qxb1+,Kf2,Qa2', 'Nxc6,bxc6,Qxc6+', 'https://lichess.org/training/ZaFDh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zafLR', 'Blitz', 'farshad008', 1894, 'mike271174', 1890, 'c4,e6,e4,d5,cxd5,exd5,exd5,Qxd5,Nf3,Bg4,Nc3,Qh5,Be2,Nc6,O-O,O-O-O,h3,Nf6,hxg4,Nxg4,Ne4,Nce5,Ng3', 'Nxf3+,Bxf3,Qh2#', 'https://lichess.org/training/zafLR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZafTi', 'Rapid', 'app0state', 1679, 'mrsalatik', 1648, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,h3,h6,d3,O-O,Nd5,d6,a3,Nxd5,Bxd5,Nd4,Nxd4,Bxd4,c3,Bc5,b4,Bb6,O-O,c6,Bc4,d5,exd5,cxd5,Bb5,Bd7,Bxd7,Qxd7,Qf3,Rab8,Be3,Bxe3,Qxe3,f6,Qxa7,d4,cxd4', 'Ra8,Qb6,Ra6,Qxa6,bxa6', 'https://lichess.org/training/ZafTi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zagbX', 'Blitz', 'PapillonPerdant', 1971, 'Kivan8286', 1875, 'd4,d5,c4,dxc4,Nc3,Nc6,Nf3,Nf6,e3,e6,Bxc4,Bd6,O-O,Bd7,Nb5,O-O,Nxd6,cxd6,a3,d5,Ba2,Qc7,b4,Rac8,Bb3,b5,Bb2,a6,Rc1,Qd6,Ne1,a5,Nd3,axb4,Nc5,bxa3,Bxa3,b4,Bb2,Ne4,Qe2,Na5,Ba2,Nxc5,Rxc5,Rxc5,dxc5,Qxc5,Rc1,Qb5,Qd1,b3,Bb1,Rc8,Qd4,f6,Rxc8+,Bxc8,g4,Nc4,Bc3,Bd7,f4,b2,g5,e5,fxe5,fxe5,Qa7,Bh3,Kf2,Nxe3,Qa8+,Kf7,Qa7+,Ke8,Qxe3', 'Qf1+,Kg3,Qg2+,Kh4,Qg4#', 'https://lichess.org/training/zagbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAHlg', 'Rapid', 'zeropourcent', 1938, 'snovapampa', 1899, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,Nf6,e5,Bb4,exf6,Qxf6,Be2,h6,O-O,O-O,Bd2,Bd6,Ne5,Bxe5,dxe5,Qxe5,Bf3,d5,Re1,Qf6,Qe2,Nd7,b4,Rfe8,a3,c5,Na4,e5,bxc5,e4,Bg4,Nxc5,Nxc5,bxc5,c4,d4,Rac1,Qg6,Bh3,f5,Bf4,Rad8,Qd2,e3,fxe3,dxe3,Qb2,Rd3,Qxb7,e2,Qb5,Rxh3,Kh1,Rh4,Bg3,Rhe4,Qxc5,f4,Qd5+,Kh8,Bf2,R8e5,Qd8+,Kh7,c5,Rg5,Rg1,Re8,Qd4,Rh5,c6', 'Rxh2+,Kxh2,Qh5+,Bh4,Qxh4#', 'https://lichess.org/training/zAHlg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAHOs', 'Rapid', 'crescens', 1939, 'apachenauge', 1927, 'e4,e5,d4,Nc6,Nf3,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,c6,Bc4,Be6,Bb3,Qf6,Be3,Qxd4,Bxd4,c5,Be3,a6,Nd5,Bxd5,Bxd5,Rb8,f4,Nf6,Bb3,Nxe4,Kf1,Be7,g3,O-O,Kg2,b5,a4,c4,Ba2,d5,b3,bxa4,bxc4,Rb2,cxd5,Rxc2+,Kf3,Nf6,Rhd1,Rd8,Bb6,Rb8,d6,Bd8,Bd4,Bb6,Bxf6,gxf6,d7,Rd8,Bd5,Rxd7,Rxa4,Rxh2,Rxa6,Bc5,Rxf6,Kg7,Rf5,f6,Rc1,Ba7,Rc6,h5,Rcxf6,Rf2+,Ke4,Re2+,Kd3,Re3+,Kc4,Rxg3', 'Rf7+,Rxf7,Rxf7+,Kh8,Rxa7', 'https://lichess.org/training/zAHOs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAHUC', 'Rapid', 'kerbol', 1909, 'veysel88', 1889, 'e4,e6,d4,c5,d5,exd5,exd5,d6,c4,Nd7,Nf3,Ngf6,Nc3,a6,a4,Be7,Bd3,O-O,O-O,Ne5,Nxe5,dxe5,Re1,Bd6,Bg5,Re8,Ne4,Be7,Bxf6,Bxf6,Nxc5,Be7,Ne4,f5,Nd2,Bb4,Re2,e4,Bc2,Qh4,Nf1,Bd6,c5,Bxc5,d6,Bd7', 'Qd5+,Kh8,Qxc5', 'https://lichess.org/training/zAHUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAifG', 'Classical', 'DZIDZASUMRAKOVAC', 1990, 'Sakktigris', 2138, 'e4,e6,d4,d5,Nc3,Bb4,e5,Ne7,Qg4,c5,Bd2,Nbc6,a3,Bxc3,bxc3,Nf5,Bb5,Qb6,Bxc6+,bxc6,dxc5,Qxc5,Ne2,h5,Qb4,Qe7,O-O,c5,Qf4,Bb7,Ng3,Nxg3,fxg3,h4,gxh4,Rxh4,Qg3,Rh7,Bg5,Qc7,Qf4,Ba6', 'Qa4+,Kf8,Qxa6', 'https://lichess.org/training/zAifG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAiU2', 'Rapid', 'Kooksta', 1848, 'medeys', 1867, 'd4,d5,c4,c5,Nc3,e6,e3,Nc6,cxd5,exd5,Bb5,c4,a3,Nf6,Nf3,Bd6,h3,a6,Bxc6+,bxc6,Qa4,Bd7,Qc2,O-O,Ng5,h6,Nf3,Qc8,e4,dxe4,Nxe4,Bf5,Nxf6+,gxf6,Qxc4,Re8+,Kf1,Be6,Qc3,Kg7,Be3,Qb7,Rc1,Rac8,b4,Qb5+,Kg1,Bd5,Qd2,Rh8,Nh4,Be6,Bf4,Bxf4,Qxf4,Qg5,Qxg5+,fxg5,Nf3,Bd5,Ne5,f6,Nd3,Rhe8,Nc5,Ra8,Kh2,Re2,Rhf1,Ra2,Ra1,Bc4,Rfc1,Rxa1,Rxa1,Re8,f3,Re2,Rc1,Bd5,Kg3,h5,Nxa6,h4+,Kg4,Rxg2+,Kf5,Rf2,Nc7,Rxf3+,Kg4,Kg6,Nxd5', 'Rg3#', 'https://lichess.org/training/zAiU2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zaj1W', 'Blitz', 'Ahzutalors', 2042, 'FM ArnoldEssing', 2375, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,cxd6,Nc3,g6,Be3,Bg7,Rc1,O-O,b3,e5,dxe5,dxe5,Qxd8,Rxd8,Bxb6,axb6,a4,Be6,Nf3,Nc6,Ng5,Nd4,Nxe6,fxe6,Rb1,Nc2+,Ke2,Bh6,Ne4,Rd4,f3,Rad8,g4,Rd2+,Nxd2', 'Rxd2#', 'https://lichess.org/training/zaj1W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAJ3Z', 'Rapid', 'Cosianfiro', 1718, 'Sons_LCKB', 1727, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,a6,Bg5,Bb4,Bd3,O-O,Qd2,d6,a3,Bxc3,bxc3,Be6,O-O,Rc8,Rab1,b5,f4,h6,Bxh6,gxh6,f5,Bxb3,cxb3,Kh7,Rf3,Rg8,Rh3,h5,Be2,Qb6+,Kh1,Nxe4', 'Rxh5+,Kg7,Qh6#', 'https://lichess.org/training/zAJ3Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAker', 'Rapid', 'Oliveira0404', 1855, 'lukemalone', 1723, 'e4,c5,Bc4,e6,d3,Nc6,Nf3,d5,exd5,exd5,Bb3,Nf6,Nc3,Bg4,Bg5,Be7,Bxf6,Bxf6,Qe2+,Be7,Nxd5,O-O,O-O-O,Nd4,Qe4,Bxf3,gxf3,Bg5+,f4,Nxb3+,axb3,Bh4,Rhg1,Bxf2,Rg2,Bd4,c3,Bf6,Rdg1,g6,f5,Re8,Qf3,Re5,fxg6,Rxd5,gxh7+,Kh8,Rg8+,Qxg8,Qxf6+,Kxh7', 'Qh4+,Rh5,Qxh5#', 'https://lichess.org/training/zAker');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZakkX', 'Classical', 'robfeynman', 1652, 'krlos1183', 1934, 'e4,d5,exd5,Nf6,d4,e6,dxe6,Bxe6,Nf3,c5,Bb5+,Nc6,O-O,Qc7,Bg5,Be7,dxc5,Rd8,Qe2,h6,Bh4,O-O,Re1,Nd4,Nxd4,Rxd4,Nd2,Rxh4,g3,Ng4,Ne4,Rxh2,Qf3,Ne5,Qf4,Bg5,Nxg5,hxg5,Qxe5,Qxe5,Rxe5,Rh6,Rxg5', 'f6,Rf5,Bxf5', 'https://lichess.org/training/ZakkX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zakmV', 'Classical', 'Steveosea81', 1910, 'Zakhrulloev', 1676, 'd4,c6,c4,Qa5+,Nc3,d6,Bd2,g5,Bxg5,Qxg5,Nf3,Qa5,e3,Bg7,Bd3,Bg4,O-O,Qh5,Be2,Nd7,h3,Bxh3,gxh3,Qxh3,Nh2,Ngf6,Bg4,Nxg4,Qxg4,Qxg4+,Nxg4,h5,Nh2,O-O-O,Nf3,Rdg8,Kh2,e5,Rg1,f5,Rg5,e4,Nh4,Bf6', 'Rxg8+,Rxg8,Nxf5', 'https://lichess.org/training/zakmV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAKuS', 'Blitz', 'JupiterCycle', 1750, 'Chessilla', 1663, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,g6,Nf3,Bg7,Be2,Be6,Qc2,Bf5,Bd3,Bxd3,Qxd3,O-O,O-O,dxe5,fxe5,c5,d5,N8d7,Bf4,e6,Nc3,exd5,cxd5,Re8,Rae1,c4,Qd4,a6,Kh1,Rc8,Qf2,Nc5,e6,fxe6,Ne5,exd5,Nf7,Kxf7,Be5+,Kg8', 'Qf7+,Kh8,Bxg7#', 'https://lichess.org/training/zAKuS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZALyR', 'Classical', 'orior', 2123, 'divone', 2010, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,Nf3,Bg4,exd6,exd6,h3,Bxf3,Qxf3,Nc6,Be3,Be7,Be2,Bf6,O-O,Nxd4,Bxd4,Bxd4,Qe4+,Qe7,Qxd4,Qxe2,Nc3,Qxc4,Rfe1+,Kf8,Qe3,Qh4,Rad1,h5,Rd4,Qd8,Qf3,c6,a4,d5,b3,Rh6,a5,Nd7,Nxd5,Qxa5,b4,Qd8,Nf4,Qc7,Ne6+,Rxe6,Rxe6,Nf6,Re1,Rd8,Rxd8+,Qxd8,Qe3,Qe8', 'Qc5+,Kg8,Rxe8+', 'https://lichess.org/training/ZALyR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZaM7w', 'Rapid', 'Evgeny83', 1753, 'krztok2', 1764, 'Nf3,d5,Nc3,f5,d4,Nf6,Ne5,e6,Bg5,Be7,Qd2,O-O,h4,Ne4,Nxe4,fxe4,Bxe7,Qxe7,Qg5,Qb4+,c3,Qxb2,Rc1,Na6,h5,b5,h6,g6,Nxg6,Rf5,Ne7+,Kf7,Qg7+,Ke8,Kd1,Rf7,Qg5,Rxe7,Qg8+,Kd7,Rh5,Bb7,Qg4,b4,e3,bxc3,Bxa6,Bxa6,Rxd5+,Kc6,Rc5+,Kb7', 'Qxe4+,Kb8,Rb1', 'https://lichess.org/training/ZaM7w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zamHr', 'Classical', 'DrunkenAgadZero', 1656, 'Simal0', 1639, 'd4,d5,Bf4,e6,e3,g5,Be5,f6,Bg3,h5,h4,g4,Bd3,f5,f3,Bb4+,c3,Ba5,Nd2,Nc6,Rc1,b5,Bxb5,Bd7,a4,Rb8,Qc2,Nf6,fxg4,Nxg4,Ke2,Nxd4+,cxd4,Bxb5+,Kf3,Bd7,Ne2,O-O,Nc3,f4', 'Qg6+,Kh8,Qxh5+,Kg7,Qxg4+', 'https://lichess.org/training/zamHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zaNPw', 'Rapid', 'lumil', 1833, 'mafe', 1610, 'e4,e5,Bc4,Nc6,a3,Nf6,Nc3,d6,d3,Qe7,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,Qf3,Be6,Ne2,a6,Ba2,Qd7,h3,O-O-O,O-O-O,Kb8,Kb1,f6,Qe3,Be7,Ndc3,f5,Bxe6,Qxe6,exf5,Qxf5,f3,Rhe8,Qe4,Qg5,g4,Bf6', 'h4,Qxh4,Rxh4', 'https://lichess.org/training/zaNPw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAoaA', 'Rapid', 'talatoral', 1728, 'd_a_n_i', 1686, 'e4,c6,Nf3,d5,exd5,cxd5,Nc3,Bg4,d4,e6,a3,Nf6,Bg5,Be7,h3,Bxf3,Qxf3,Nc6,Bb5,O-O,Bxc6,bxc6,O-O,Qb6,Rfd1,Qxb2,Rab1,Qxa3,Rb7,Rab8,Rxe7,Qxe7,Na4,Qb7,Bxf6,gxf6,Qxf6,Rfe8,Rd3,Qb1+,Kh2,Qxc2,Rg3+,Kf8,Nc5,Red8,Rg7,Qf5', 'Rxf7+,Kg8,Qg7#', 'https://lichess.org/training/zAoaA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zaPsX', 'Classical', 'Khmer804', 1857, 'Luzcifer16', 1842, 'e4,c6,d4,d5,e5,g6,g4,Bg7,f4,h5,Be2,Nh6,h3,hxg4,hxg4,e6,Be3,Nd7,Bf3,Qb6,b3,c5,c3,Qa5,dxc5,b5,b4,Qc7,Bd4,a5,Qb3,a4,Qc2,Nb8,Na3,Ba6,Ne2,Nc6,Qd3,Qb7,Kd2,Kd7,Ng3,Rag8,Rae1,Bf8,Re2,Be7,Reh2,Nxd4,cxd4,Qb8,Rxh6,Rxh6,Rxh6,Rh8,Rxh8,Qxh8,Qe2,Qh4,Qf2,f5,gxf5,Qxf4+,Kc2,Bh4,fxe6+,Ke7,Ne2', 'Qf5+,Kd2,Bxf2', 'https://lichess.org/training/zaPsX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zaq9U', 'Rapid', 'Pionvert', 1745, 'tarraschtalk', 1759, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be7,Be3,Be6,Be2,O-O,O-O,Nc6,Nd5,Bxd5,exd5,Nb4,c4,b5,a3,bxc4,Bxc4,Rc8,Bxa6,Nxa6,Qd3,Nc5,Nxc5,dxc5,Rfd1,Qd6,Qc4,Rfd8,Rac1,Nxd5,Bf2,Qc6,b4,Nf4,b5,Qg6,Bg3,Bd6,Bxf4,exf4,Rd5,Qe6,a4,Re8,Rcd1,Qe3+,Kf1,Bb8,Rd7,Rc7', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/Zaq9U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zaru4', 'Rapid', 'calebl', 1720, 'juanmcj7', 1688, 'd4,d5,g3,Be6,Bg2,Nf6,b3,g6,Bb2,Bg7,f4,O-O,Nd2,Bg4,Ngf3,Qd7,O-O,Bh3,Ne5,Qe6,Ndf3,Bxg2,Kxg2,Nbd7,Ng5,Qd6,Nexf7,Rxf7,Nxf7,Kxf7,Qd3,c6,Rae1,Ne4,f5,Kg8,fxg6,Qxg6,Rf4,Ndf6,Ba3,Bh6,Rf3,Ng4,e3,Rf8,Rxf8+,Kxf8,Rf1+,Ke8,c4,Nxe3+,Kg1,Nxf1,Qxf1,Nxg3,hxg3,Qxg3+,Kh1,Qh4+,Kg1,Be3+,Kg2,Qg4+,Kh1,Qe4+,Qg2,Qxg2+,Kxg2,Bxd4,cxd5,cxd5,Kf3,e5,Bd6,Kf7,Kg4,Kf6,Bf8,e4,Bh6,e3,Kf3,Ke5', 'Bg7+,Kd6,Bxd4', 'https://lichess.org/training/Zaru4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZArxs', 'Rapid', 'ASEETY123', 2747, 'FM toog', 2606, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,g6,Nc3,Bg7,e4,O-O,Nf3,Qa5,Bd2,Bxa6,Be2,e6,dxe6,fxe6,O-O,Nc6,Re1,Rfb8,Rb1,Nd4,e5,Ne8,Bxa6,Qxa6,Re3,Nc7,Be1,Ncb5,Nxb5,Nxb5,Qxd7,Rd8,Qe7,Qxa2,Rc1,Qxb2,Rxc5,Re8,Qb7,Rab8,Qe4,Qa1,h4,Re7,h5,gxh5,Kh2,Nc7,Ba5,Nd5,Rd3,Ra7,Bd2,Ra4,Qe2,Rg4,Rc6,Rb1,Ne1,Qxe5+,Qxe5,Bxe5+,g3,Kf7,Nf3,Bb8,Ng5+,Rxg5,Bxg5,Re1,Rb3,Be5,Rb7+,Kg6,Bd2,Re2,Ba5,Rxf2+,Kh3,Rf6,Bd8,Rf8,Bh4,Kf5,Rb1,Ke4,Re1+,Kd4,Rd1+,Ke4,Re1+,Ne3,Bg5,Bd4,Rc4,Kd3,Rxd4+,Kxd4,Bxe3+,Kd3,Bf4,Rf6,Re5,h4,Kxh4,Rg6,Rg5,Rf6,Rh5,Kd4,Rxh7,e5,Rd7+,Ke4,Bg5,Rf1,g4,Rh1+,Kg3,Rg1+,Kh3,Kf3,Rd3+,Ke2,Re3+,Kf2,Kh2,Rxg4,Rxe5,Kf3,Re3+,Kf2,Re5,Rg2+,Kh3,Rg3+,Kh4,Rg1,Bf4,Kf3,Rg5', 'Rh1+,Bh2,Rxh2#', 'https://lichess.org/training/ZArxs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAu0R', 'Rapid', 'Altapinus', 2006, 'Msudirboy', 2083, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bc4,e6,Bd2,Qb6,Nf3,a6,Bb3,Be7,O-O,O-O,Re1,Nc6,Be3,Qb4,d5,Rd8,a3,Qa5,Qe2,exd5,Rad1,Be6,Ng5,d4,Nxe6,fxe6,Bd2,dxc3,Qxe6+,Kh8,Bxc3,Qg5,h3,Bc5,Rxd8+,Rxd8,Ba4,Qf4,Qe2,Qxa4,Bxf6,gxf6,Qh5,Qf4,Qxc5,Ne5,Qe7,Rg8,Rd1,Nf3+,Kf1,Qc4+,Rd3,Qxc2,Rxf3,Qd1+,Qe1,Qd6,Qc3,Rg6,Rd3,Qe7,Qd2,Rg8,Rd7,Qc5,Rf7', 'Qc4+,Kg1,Qxf7', 'https://lichess.org/training/zAu0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zAv7p', 'Rapid', 'efordesancez', 1706, 'Prof_Osama', 1933, 'e4,d5,Nf3,dxe4,Ng5,Nc6,Nxe4,Bf5,d3,e6,Nbc3,Nf6,Bg5,Be7,Be2,Nxe4,dxe4,Bxg5,exf5,exf5,O-O,O-O,f4,Bf6,Bd3,Bd4+,Kh1,Qf6,Nd5,Qd6,c4,Bxb2,Rb1,Ba3,Rxb7,Nb4,Rxc7', 'Nxd5,cxd5,Qxc7', 'https://lichess.org/training/zAv7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zaVFC', 'Rapid', 'mister-xxx', 2170, 'LUKA8888', 1921, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Re1+,Be6,Bb5,Be7,d4,c4,Ne5,Qb6,Nc3,Nf6,Bxc6+,bxc6,Rb1,c5,Be3,O-O,Na4,Qc7,c3,cxd4,Bxd4,Bd6,b3,Rab8,Qe2,cxb3,axb3,Ne4,Nd3,Rb7,f3', 'Bxh2+,Kh1,Ng3+,Kxh2,Nxe2+', 'https://lichess.org/training/zaVFC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZaVGc', 'Rapid', 'hamza1997', 1624, 'GurcanS14', 1639, 'd4,d5,Bf4,Nf6,e3,Nc6,Nf3,e6,c4,Be7,c5,O-O,Bd3,b6,Qc2,Bb7,Ne5,Nb4,Qd2,Nxd3+,Qxd3,bxc5,Qb5,c6,Qxb7,Rb8,Qxa7,Rxb2,Nxc6,Qa8,Nxe7+,Kh8,Qa3', 'Rxb1+,Rxb1,Qxa3', 'https://lichess.org/training/ZaVGc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zavZd', 'Classical', 'RUSichKIEva', 1933, 'Seneca11', 1854, 'e4,c5,a3,e6,Nf3,a6,d4,cxd4,Nxd4,d6,Nc3,Nc6,Bc4,Nf6,Ba2,Qc7,O-O,Be7,h3,b5,Kh1,Bb7,f4,Nxd4,Qxd4,Rd8,f5,e5,Qd3,O-O,Rf3,Qb8,Rg3,Qa8,Bg5,Kh8,Bxf6,Bxf6,Bd5,h6,Bxb7,Qxb7,Nd5,Bh4,Rg4,Bg5,Qf3,f6,h4,Bf4,Rg6,Rc8,c3,Rc5,g3,Rxd5,exd5,Bd2,Rd1,Bxc3,bxc3,Rc8,g4,Rc4,Kg2,Qc8,Rd3', 'e4,Qg3,exd3', 'https://lichess.org/training/zavZd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zawE9', 'Blitz', 'electrovore', 2136, 'NM evandrorsilva', 2108, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nc3,g6,Nf3,Bg7,Bf4,O-O,Be2,Nh5,Be3,Nd7,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Bxh5,Bxc3,bxc3,gxh5,Qxh5,Qf6,Bd4,Qg6,Qe5,f6,Qf4,Bh3,Qf3,Bg4,Qg3,b6,Rfe1,c5,Be3,Bf5,Qc7,Rf7,Qc6', 'Be4,Qxe4,Qxe4', 'https://lichess.org/training/zawE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zay52', 'Rapid', 'Davehh77', 1968, 'Iwan_Bro', 2061, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,c6,d3,e6,Nf3,h6,Qe2,Nf6,Bf4,Bd6,Bg3,Bxg3,hxg3,Nbd7,Ne5,O-O,O-O-O,Nxe5,Qxe5,Nd5,f4,Qf6,Qxf6,Nxf6,d4,Nd5,Nxd5,exd5,Bd3,Bg4,Rde1,Rfe8,Kd2,Kf8,Rxe8+,Rxe8,Re1,Re6,Rxe6,fxe6,Ke3,Ke7,c3,b6,a4,c5,dxc5,bxc5,b4,c4,Be2,Bf5,g4,Bc2,a5,Kd6,Kd4,g5,g3,Bg6,Bf3,Bc2,Be2,Bg6,Bf3,Bc2,Be2,Bb1,Bf3,Bd3,Bd1,Bf1,Bf3,Bh3,Be2,Bg2,Bd1,Bh3,Bf3,Kc6,Ke5,Kb5,Kxe6,d4,cxd4,c3,Be4,Bxg4+,Kf6,gxf4,gxf4,h5,Kg5,Kxb4,f5,Kc4,d5,Bxf5,Bxf5,Kxd5,Kxh5,Kc5,Kg4,Kb5,Kf3,Kxa5,Ke3,Kb4,Kd4,Kb3,Kc5', 'a5,Bd3,a4', 'https://lichess.org/training/zay52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zb1ia', 'Rapid', 'javi8', 1706, 'SahakS', 1716, 'e4,e5,Nf3,Bc5,Bc4,d6,c3,c6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,h6,d5,Nf6,O-O,O-O,dxc6,Nxc6,Re1,Ne5,Bb3,Bg4,Re3,Re8,Qc2,Be6,Ba4,Rf8,Nxe5,dxe5,Nf3,Rc8,Qe2,Ng4,Rd3,Qc7,Rc3,Qb6,Rxc8,Rxc8,h3,Nf6,Nxe5,Qa5,Nf3,Qxa4,e5,Nd5,b3,Qc6,Nd4,Qc3,Rd1,Nf4,Qe4,Nxh3+,gxh3,Bxh3,Nf3,Be6,Rd3,Qc1+,Kg2,Qc6,Qe3,a6,Rd4,Qc3,Qe4,Qc2', 'Rd8+,Rxd8,Qxc2', 'https://lichess.org/training/zb1ia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zb2Vj', 'Rapid', 'CDO_IM_darknight81', 1785, 'Dehau', 1771, 'c4,d5,cxd5,Qxd5,Nc3,Qa5,g3,c6,Bg2,Nf6,Nf3,g6,O-O,Bg7,d3,O-O,Bd2,Qd8,Rc1,a5,b3,Na6,a3,Nc5,Be3,Ne6,h3,b5,Qd2,Bb7,Bh6,Qc7,Bxg7,Nxg7,Nxb5,Qb6,Nc3,Nf5,Kh2,h5,e4,Ng7,Qh6,Nh7,Na4,Qc7,Rc5,Rad8,Ne5,Ne6,Nxg6,fxg6,Qxg6+,Ng7,Rxh5,Nf6,Rg5,Rf7,e5,Nh7,e6,Nxg5,exf7+,Nxf7,Be4,Rd6,Qh7+,Kf8,Nc5', 'Rh6,Qxh6,Nxh6', 'https://lichess.org/training/zb2Vj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zB3Ar', 'Bullet', 'Arthur_Motta', 2096, 'HackAttack101', 2026, 'e4,e6,d4,d5,Nc3,Bb4,exd5,exd5,Bd3,Nf6,Ne2,Bg4,Bg5,c6,O-O,Nbd7,Qd2,O-O,a3,Ba5,b4,Bc7,Ng3,h6,Bxh6,gxh6,Qxh6,Re8,h3,Be6,Rae1,Qe7,Nf5,Qf8,Qg5+,Kh8,Ne4,dxe4,Rxe4,Nxe4,Bxe4,f6,Qh5+,Kg8,Qg6+,Kh8,Qh5+,Kg8,Nh6+,Kg7', 'Qg6+,Kh8,Qh7#', 'https://lichess.org/training/zB3Ar');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zB3Ot', 'Bullet', 'BazonHik', 1550, 'Poppete', 1506, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kf1,Qe7,Nxh8,d5,exd5,Nd4,c3,Bg4,Qa4+,c6,dxc6,Nxc6,Bb5,Kd7,Kxf2,Rf8,Ke1,Qc5,Bxc6+,bxc6,d4,exd4,Bd2,Qe5+,Kf1,Ne4+,Kg1,Nxd2,Qxa7+,Kd6,Qxd4+', 'Qxd4+,cxd4,Rf1#', 'https://lichess.org/training/zB3Ot');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZB4AU', 'Blitz', 'VLADUSHA', 2447, 'GM promove2500', 2591, 'e4,c5,d4,d6,c3,Qc7,Nf3,Nd7,Be2,Ngf6,Bd3,b6,O-O,Bb7,Re1,e6,Bg5,h6,Bh4,Be7,Nbd2,O-O,Rc1,e5,d5,Qd8,c4,Nh5,Bxe7,Qxe7,Bf1,Nf4,g3,Ng6,Bg2,f5,Qe2,f4,Bh3,Rf6,Be6+,Kh8,Rf1,Ndf8,Bf5,Bc8,Bxc8,Rxc8,Kg2,Nh7,h4,Kg8,h5,Nh8,Nh4,Ng5,Nf5,Qd7,gxf4,exf4,Qg4,Qe8,Rce1,Rc7,Rh1,Nhf7,Qxf4,Ne5,Qg3,Nh7,f4,Nf7,Nf3,Qd8,N3h4,Nh8,Ng6,Nxg6,hxg6,Nf8,Qg4', 'Rxg6,Qxg6,Nxg6', 'https://lichess.org/training/ZB4AU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zb4uM', 'Rapid', 'droceretik', 1796, 'albix', 1753, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,h6,Bc4,c6,a3,a6,d3,Qa5,Bd2,Qb6,Rb1,Nbd7,O-O,Nc5,b4,Ne6,Be3,Qc7,Na4,b5,Nb6,bxc4', 'Nxa8,Qb8,Nb6', 'https://lichess.org/training/zb4uM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zB5Gj', 'Rapid', 'ppplatypus', 1991, 'chessmator', 1999, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,Nc6,d3,g6,f4,Bg4,Nf3,Nd4,h3,Bxf3,Bxf3,Nxf3+,Qxf3,Bg7,Bd2,Nd7,g4,a6,f5,Qb6,Rb1,Ne5,Qf2,Qc6,Nd5,e6,f6,Bf8,Ne7,Bxe7,fxe7,Kxe7,Bg5+,Kd7,Qf6,Rae8,Kd2,h6,Be3,Qb6,b3,Qa5+,b4,cxb4,Rb3,Qd8,Qxd8+,Rxd8,Rxb4,b5,a4,Rb8,axb5,axb5,Rhb1,Kc6,Ra1,Rb7,Ra6+,Kc7,d4,Nc4+,Kd3,g5,Bf2,f6,e5,fxe5,dxe5,Nxe5+,Ke4,Rf8,Bg3,Nc4', 'Rxc4+,bxc4,Bxd6+,Kd7,Bxf8', 'https://lichess.org/training/zB5Gj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZB9YT', 'Blitz', 'Odnucaffo', 2082, 'Roboterbrain', 2153, 'e4,c5,Nc3,d6,Bb5+,Bd7,a4,Nc6,d3,e6,f4,Be7,Nf3,Nf6,O-O,O-O,Kh1,Rc8,Qe1,Kh8,g4,Nxg4,Rg1,f5,h3,Nh6,Ng5,Bf6,Bxc6,Rxc6,e5,Be7,exd6,Rxd6,Be3,b6,Qg3,Rg8,Qh4,Qf8,Nb5,Bc6+,Kh2,Bxg5,fxg5,Nf7,Nxd6,Nxd6,g6,h6,a5,e5,axb6,axb6,Ra7,f4,Rf1,Nf5,Qh5,Nxe3,Rf3,Bxf3', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/ZB9YT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZB9zA', 'Blitz', 'dpetricu', 1594, 'sejawas', 1568, 'd4,d5,Nf3,Nc6,Nc3,Nf6,a3,e6,h3,Bd6,Bg5,Bd7,e4,h6,Bh4,Be7,Ne5,Nxe5,dxe5,Nxe4,Bxe7,Qxe7,Nxe4,dxe4,Qg4,O-O,Qxe4,f5,Qf3,Bc6,Qg3,f4,Qg4,Rad8,Bd3,f3,Qg6,Rf4,Qh7+,Kf8,Bg6,Qg5', 'Qh8+,Ke7,Qxg7+,Rf7,Qxf7#', 'https://lichess.org/training/ZB9zA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbARC', 'Classical', 'Blaklino', 1966, 'Pulemet55', 1958, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Nc3,a6,Bxc6,Bxc6,dxe5,Be7,O-O,f6,exf6,Nxf6,e5,Bxf3,Qxf3,dxe5,Qxb7,O-O,Bg5,Bd6,Rad1,h6,Bxf6,Qxf6,Qd5+,Kh8,Ne4,Qf5,Nxd6,cxd6,Qxd6,Qxc2,Qxe5,Rab8,Rb1,Qc4,b3,Qc2,Rb2,Qd3,b4,Rbe8,Rb3', 'Qxf1+,Kxf1,Rxe5', 'https://lichess.org/training/ZbARC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zbc5I', 'Blitz', 'ElhachaGM', 2607, 'IM AryaCross', 2576, 'e4,c6,Nf3,d5,exd5,cxd5,Ne5,Nc6,d4,Nxe5,dxe5,e6,Bd3,Ne7,Nd2,Ng6,Nf3,Be7,h4,Nxh4,Nxh4,Bxh4,Qg4,Be7,Qxg7,Rf8,Bh6,Bd7,Qxh7,Qa5+,c3,d4,Bxf8,dxc3,O-O,Bxf8,bxc3,Qxe5,Rfe1,Qf6,Be4,Bc5,Re2,Ke7,Bxb7,Rh8,Qe4,Qh6,g3,Qg7,Kg2,Qh6,Kg1,Bb5,Rb2', 'Qh2#', 'https://lichess.org/training/Zbc5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zBCNK', 'Rapid', 'boogieman2', 1807, 'kingchessmate', 1965, 'Nf3,d5,d4,Nf6,g3,Bg4,Bg2,Nc6,Nbd2,e6,O-O,h5,c4,Bxf3,Nxf3,dxc4,Qa4,Be7,Ne5,O-O,Nxc6,bxc6,Bxc6,h4,Bxa8,Qxa8,f3,Nd5,e4,Nb6,Qb5,h3,Qh5,e5,Be3,exd4,Bxd4,Qc8,g4,Rd8,Rad1,a5,Qxh3', 'Rxd4,Rxd4,Bc5', 'https://lichess.org/training/zBCNK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zBcxd', 'Rapid', 'erfanzafar', 1800, 'via4eslav', 1843, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e6,Nc3,Nc6,Nxc6,bxc6,e5,Qc7,f4,c5,Be2,Bb7,Bf3,Nh6,O-O,Nf5,Ne4,Be7,c3,O-O,g3,Rad8,Nd6,Nxd6', 'exd6,Bxd6,Bxb7', 'https://lichess.org/training/zBcxd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZBdEj', 'Rapid', 'Propal', 1832, 'ivanlara', 1957, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,Bd2,Nd7,h3,a6,g4,Bg6,h4,h6,f4,Be7,Nf3,Be4,g5,hxg5,fxg5,b5,Nxe4,dxe4,Ng1,c5,Qg4,cxd4,Qxe4,Nc5,Qc6+,Kf8,Bg2,Rc8,Qf3,Na4,O-O-O,d3,c3,b4,g6,f6,exf6,Nxf6,Kb1,bxc3,Bxc3,Nxc3+,bxc3,Qb6+,Kc1,Ba3+,Kd2,Qb2+,Ke1,Qxc3+,Kf2,Qc2+,Kg3,Bd6+,Kh3,Rc4,Qa8+,Ne8,Rf1+,Ke7', 'Rf7#', 'https://lichess.org/training/ZBdEj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbDLO', 'Bullet', 'Aspire_ie', 2291, 'CM artsportscience', 2151, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,Nc3,Be7,Nxe4,O-O,d3,Nxd5,Bd2,Re8,Qd1,f5,Ng3,Bf6+,Be2,Bxb2,O-O,Bxa1,Qxa1,Qf6,Qb1,Nc6,c4,Nc3,Bxc3,Qxc3,Rc1,Qa3,Rd1,b6,d4,Bb7,Qxf5,Qf8,Qh5,Qf7,Qh4,Rad8,Ng5,Qg6,Bd3,Nxd4,Bxg6', 'Ne2+,Kh1,Rxd1+,Nf1,Rxf1#', 'https://lichess.org/training/ZbDLO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbEef', 'Classical', 'NHorde', 1652, 'anervouskid', 1628, 'd4,e6,c4,Nf6,Nc3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,d5,b3,Ne4,Qd3,Qf6,f3,Nxc3,Qxc3,Nc6,e3,Qh4+,g3,Qf6,f4,Bd7,cxd5,exd5,Nf3,Bg4,Ne5,Nxe5,fxe5,Qf3,Rg1,c6,Ra2,Qe4,Bd3,Qxe3+,Re2,Bxe2', 'Bxh7+,Kxh7,Qxe3', 'https://lichess.org/training/ZbEef');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbeGO', 'Blitz', 'abdullah1500', 1637, 'DramaQueenSac', 1665, 'e4,e5,Nf3,Nf6,Bc4,Nc6,O-O,Bc5,Re1,O-O,c3,Re8,d4,exd4,cxd4,Bb4,Nc3,Bxc3,bxc3,Rxe4,Rxe4,Nxe4,Qd3,Nd6,Bd5,Ne7,Bg5,h6,Bh4,g5,Nxg5,Nxd5,Qh7+,Kf8,Nxf7,Qxh4,Nxh6,Qf6,Qg8+,Ke7,Re1+,Ne4,Rxe4+,Kd6,Re5,Ne7,Nf7+,Kc6,Qg3,Qxf7', 'Rc5+,Kb6,Qxc7+,Ka6,Ra5#', 'https://lichess.org/training/ZbeGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbeMs', 'Rapid', 'PalenciaX', 1652, 'Illia_kyiv', 1650, 'e4,c6,c4,d6,d3,Nd7,Nf3,h6,Be2,g5,Nc3,Bg7,Be3,Ngf6,Qc2,Ng4,Bd4,Ngf6,Nd2,Qc7,Nb3,Nf8,a3,Ne6,Be3,h5,Nd4,Ng4,Nxe6,Bxe6,Bxg4,Bxg4,Bxg5,O-O-O,Bf4,e5,Be3,a6,b4,f5,Bg5,fxe4,Bxd8,exd3,Bxc7,dxc2,Bxd6,Bh6,Bxe5', 'Re8,O-O,Rxe5', 'https://lichess.org/training/ZbeMs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZBEqE', 'Classical', 'DaveGreen', 1683, 'JackMaudDib', 1616, 'e4,e5,Nf3,Nc6,d4,d6,d5,Bg4,h3,Bxf3,Qxf3,Nd4,Qc3,Nf6,Nd2,Be7,b4,O-O,Bb2,Rc8,Qd3,a6,Bxd4,exd4,Qxd4,Nh5,Nf3,Bf6,e5,dxe5,Nxe5,Re8,O-O-O,Bxe5,Qg4,Nf6,Qf3,Qd6,a3,c6,dxc6,Qxc6,Bd3,Qc3,Qxb7,Bf4+,Kb1,Qxa3,Rhe1,Rb8,Rxe8+,Nxe8,Re1,Kf8', 'Qe7+,Kg8,Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/ZBEqE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zbfc4', 'Classical', 'Schach001', 1971, 'alfierelebez', 2057, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nf6,Nf3,Nc6,Be3,cxd4,cxd4,e5,Nc3,Bb4,dxe5,Nxe5,Nxe5,Qxe5', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/Zbfc4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZBFjw', 'Blitz', 'WFM Marjoirerdr', 1902, 'm3ssym4rv1n', 1943, 'e4,d6,d4,Nf6,Nc3,g6,Bd3,Bg7,Bg5,O-O,Nf3,Nc6,O-O,h6,Be3,e5,d5,Ne7,Qd2,Kh7,h4,c6,dxc6,bxc6,Ne2,Ng4,c4,Nxe3,Qxe3,d5,cxd5,cxd5,exd5,Qxd5,Rad1,Qe6,Nf4,Qb6,Nxe5,Qxe3,fxe3,Bxe5,Be4,Rb8,b3,f5,Bd3,Bb7,h5,Bxf4,exf4,Nd5,Rfe1,Rbe8,hxg6+,Kxg6,Bc4,Nxf4,Rd6+,Kh5', 'Rxe8,Rxe8,Bf7+,Kg5,Bxe8', 'https://lichess.org/training/ZBFjw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zbFYz', 'Classical', 'Paoloman', 1739, 'WFerneda', 1780, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,g6,h3,Bg7,Nf3,Nc6,Bc4,h6,Nc3,a6,a4,Bd7,O-O,Ne5,Bb3,Nxf3+,Qxf3,Qf6,Qg3,Ne7,Re1,O-O,Nd5,Nxd5,exd5,b5,c3,c5,axb5,axb5,Be3,c4,Bd4,Qf5,Bxg7,Kxg7,Rxa8,Rxa8,Bxc4,bxc4,Qxd6,Ra2,Re7,Rxb2,Rxd7', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/zbFYz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbgNr', 'Rapid', 'Sgt_Smashburn', 1700, 'Yogeshvkene', 1764, 'd4,Nf6,c4,e6,a3,c5,Nf3,Nc6,e3,Qb6,Nc3,cxd4,exd4,d6,Na4,Qa5+,Bd2,Qc7,c5,dxc5,dxc5,Be7,Be2,O-O,O-O,Rd8,Qc2,Bd7,b4,Ne5,Nc3,Bc6,Bf4', 'Nxf3+,Bxf3,Qxf4', 'https://lichess.org/training/ZbgNr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zBgWH', 'Classical', 'dopaminetract', 1701, 'hook_tye', 1700, 'd4,d5,Bf4,Nf6,Nc3,Bf5,Nb5,Na6,e3,e6,Nc3,Bd6,Bxa6,bxa6,Bxd6,Qxd6,Nf3,h6,Ne5,O-O,Na4,Nd7,Nxd7,Qxd7,Nc5,Qb5,Rb1,e5,Nb3,Rfe8,Rc1,exd4,Nxd4,Qd7,Nxf5,Qxf5,O-O,c6,Qd3,Qc8,c4,Qb7,b3,Rad8,cxd5,Rxd5,Qc4,Red8,Qxc6,Qxc6,Rxc6,Ra5,Rc2,Ra3,h3,a5,Rb1,Rb8,Rbb2,Rb4,Rc7,a4,Rxa7,Kf8,Rd2,Ke8,Kf1,axb3,Rxa3,b2,Rb3', 'Rxb3,axb3,b1=Q+', 'https://lichess.org/training/zBgWH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zbJUl', 'Rapid', 'MihGol51', 1791, 'Shubh191097', 1769, 'e4,e5,Nf3,Nc6,b3,Nf6,Nc3,d6,Bb5,Bd7,Bb2,a6,Be2,Bc8,Bc4,b5,Bd5,Bb7,O-O,h6,Nh4,Rb8,Nf5,Ne7,Nxe7,Bxe7,Qf3,O-O,b4,c6,Bb3,d5,Rae1,Bxb4,exd5,cxd5,Rxe5,d4,Nd5,Bd6,Nxf6+,Qxf6,Qxf6,gxf6,Re2,Be5,Rfe1,Rbd8,d3,Bd5,g3,Bxb3,axb3,Kh7,f4,Bc7,Re4,Bb6,Kg2,f5,Re5,Kg6,h4,f6,Re6,Ba5,R1e2,Bc3,Bxc3,dxc3,Rxa6,Rb8,Kh3,b4,g4,fxg4+,Kxg4,h5+,Kh3,Kf5,Ra5+,Kxf4', 'Re4+,Kf3,Rf5#', 'https://lichess.org/training/zbJUl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zblh0', 'Blitz', 'timur_Beketov', 1950, 'Alex-Tishin2021', 1952, 'e4,c5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,a5,Re1,g6,c3,Bg7,d4,cxd4,cxd4,Nf6,Nc3,O-O,h3,Ba6,Be3,Rb8,Rb1,Rb4,a3,Rb8,b4,axb4,Rxb4,Rxb4,axb4,Nh5,Qa4,Qc8,Rc1,Qb7,d5,Bxc3,dxc6,Qb5,Qxb5,Bxb5,Rxc3,Rc8,c7,Nf6,e5,Ne4,exd6,exd6,Rc1,f6,Nd4,Bd7,b5,Nc5,b6,Nb7,Nc6,Bxc6,Rxc6,Kf7,Bf4,Ke6,Bxd6,Kd7,Rc1,Kxd6,f4,Nc5', 'Rxc5,Kxc5,b7,Rxc7,b8=Q', 'https://lichess.org/training/zblh0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbLO7', 'Classical', 'torrepajarete', 1906, 'Lionnelfarid83', 1931, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,h3,Be7,Bd3,O-O,O-O,Re8,Nc3,Bb4,Bg5,h6,Bh4,c6,Ne2,Nbd7,c3,Bd6,Qc2,Qb6,Bg3,Bxg3,Nxg3,Nf8,Nf5,Qc7,Rae1,Bd7,Ne5,Be6,Re3,Rad8,Rfe1,Nh5,Qe2,Nf4,Qg4,N4g6,Qg3,Bxf5,Bxf5,Nxe5,Rxe5,Rxe5,Qxe5,Qb6,Qe2,g6,Bd3,Qc7,Qd2,Kh7,Re3,Qf4,Qe2,Ne6,Rf3,Qc1+,Kh2,Ng5,Re3,Rf8,h4,Ne6,h5,Nf4,hxg6+,fxg6,Qf3,Ne6,Qg3,Rf6,Rf3,Rxf3', 'Qxg6+,Kh8,Qh7#', 'https://lichess.org/training/ZbLO7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zBN1G', 'Rapid', 'FEGREN', 1799, 'Constant57460', 1742, 'e4,e5,Nf3,Bc5,Nc3,Nf6,Bc4,Bxf2+,Kxf2,Ng4+,Kf1,O-O,h3,Nf6,d3,d5,Nxd5,Nxd5,Bxd5,c6,Bb3,Kh8,Be3,f5,Ng5,fxe4+,Nf7+,Rxf7+,Bxf7,Qf8,dxe4,Qxf7+,Qf3,Qc4+,Qe2,Qxe4,Rc1,Be6,Qd3', 'Bc4,Qxc4,Qxc4+', 'https://lichess.org/training/zBN1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zbNl2', 'Blitz', 'Miozinho', 1691, 'fjoffly', 1732, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,O-O,a6,Ba4,Bd7,d3,Be7,Bg5,O-O,a3,h6,Be3,Bg4,Kh1,b5,Bb3,Be6,Rg1,Bxb3,cxb3,Nd7,Nd5,f5,Nxe7+,Qxe7,exf5,Rxf5,Qd2,Nf6,g4,Nxg4,Rxg4,Rxf3,Bxh6,Rf7,Rag1,Qf6,Rxg7+,Rxg7,Rxg7+,Kh8,Rxc7', 'Qf3+,Kg1,Rg8+,Rg7,Rxg7+,Bxg7+,Kxg7', 'https://lichess.org/training/zbNl2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZBNyF', 'Blitz', 'OlegSokolenko', 1785, 'laufer85', 1791, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,e6,Bg5,Be7,Bxe7,Nxe7,O-O,Ng6,h3,O-O,Nh2,e5,c4,f5,Nc3,f4,f3,Qg5,Kh1,Rf6,a4,Nh4,Rg1,Rh6,Qe1,Rg6,Qf2,Qh6,Qxc5,Qg5,Qf2,Qh6,b4,Rg3,Ra2,Bd7,Qc5,Rf8,Qxe5,Bxh3,gxh3,Rxg1+,Kxg1,Qg6+,Kh1,Qg3,Re2,Nxf3,Nxf3,Qxf3+,Rg2,Qf1+,Kh2,f3,Rg1,Qf2+,Kh1,Qd2,Nd1,f2,Nxf2,Qxf2,Qe6+,Kh8,Qg4,g6,h4,Qe3,h5,Rf4,Qc8+', 'Kg7,Qc7+,Kh6,Qxf4+,Qxf4', 'https://lichess.org/training/ZBNyF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbQCF', 'Bullet', 'kingcobra143', 1709, 'lenipaul', 1754, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,a3,Bxc3+,Qxc3,Re8,Qc2,d5,e3,Nbd7,Nf3,b6,h3,Bb7,cxd5,Nxd5,Be2,c5,O-O,cxd4,exd4,Rc8,Qa4,Re7,Bg5,f6,Bd2,Bc6,Qd1,Qe8,b4,Nf8,Qb3,Ba4,Qb2,Rc2,Qb1,Ng6,Bd3,Rxd2,Nxd2,Nc3,Qe1,Nf4,Bc4,Rc7,Kh2,Qg6,Rg1,Qh5,Bxe6+,Kf8,Bg4,Qh6,Ne4,Nxe4,Qxe4,Bc6,d5,Bxd5,Qd4,Rc4,Qd2,Re4,Bf3,Re5,Bxd5,Rxd5,Qa2,Rg5,Rad1', 'Rxg2+,Rxg2,Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/ZbQCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbrEk', 'Blitz', 'hvardastian', 2107, 'hrach51', 1813, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,Qd2,Nf6,f3,a6,Bc4,Bd7,g4,h5,g5,Nh7,h4,Nf8,Nd5,Ne6,Nxe6,Bxe6,Bb6,Qc8,Nc7+,Kf8,Bxe6,fxe6,Nxa8,Qxa8,O-O-O,Kg8,f4,Kh7,f5,exf5,exf5,Ne5,Bd4,Qe8,fxg6+,Qxg6,Bxe5,Bxe5,Qd3,Rc8,Rhf1,Kg7,Qxg6+,Kxg6,Rd3,Rc4,Rdf3,Rxh4,Rf8,Rg4,R1f7,Kxg5,Rg8+,Kh4,Rxg4+,hxg4,Kd2,Kg3,Ke2,Kg2,Rxe7,g3,Rxb7,Kg1,Rb8,Kh2,Rg8,g2,b3,Bg3,Kf3,g1=Q', 'Rh8+,Bh4,Rxh4#', 'https://lichess.org/training/ZbrEk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZBReu', 'Rapid', 'maternuelis', 1841, 'Keroloss132', 1601, 'e4,c5,Nc3,Nc6,Bc4,e6,Nf3,d6,Qe2,Nf6,d3,Be7,Bd2,a6,O-O-O,Qc7,g4,d5,exd5,exd5,Bb3,Bxg4,Nxd5,Nxd5,Bxd5,Nd4,Qe3,Qd7,Be4,f5,Nxd4,cxd4,Qf4,fxe4,Rde1,Bf3,Rhg1,Bf6,dxe4,Bh5,e5,Be7,Rxg7,O-O-O,e6,Qd6,Qf5,Bg6,Qa5,Rhe8,a3,Qxh2,Bb4,Bxb4,Qxb4,Qxf2,Qc5+,Kb8', 'Qc7+,Ka7,Qxb7#', 'https://lichess.org/training/ZBReu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zbrpg', 'Blitz', 'IM Lynxinner', 2585, 'Fallen_Order', 2538, 'e4,g6,h3,Bg7,Nf3,c5,c3,Nc6,d4,cxd4,cxd4,d6,Nc3,Nf6,Be2,O-O,O-O,Bd7,Be3,Rc8,Qd2,a6,Bh6,b5,Bxg7,Kxg7,a3,Na5,Qe3,Nc4,Bxc4,Rxc4,e5,Ne8,Rad1,Qb6,Nd5,Qd8,Rfe1,e6,Nc3,Bc6,d5,exd5,Nxd5,Bxd5,Rxd5,Qa8,Red1,dxe5,Qxe5+,Kg8,Rd8,Qc6,Ng5,Rc5,Qe3,h6,Ne4,Re5,f3,Kg7,Qd4,f6,Rd7+,Rf7,Qa7,Rxd7,Rxd7+,Kg8,Rh7,Rxe4', 'Qf7#', 'https://lichess.org/training/Zbrpg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zbrro', 'Rapid', 'Twitch_tv_KugelBuch', 1827, 'ru_perm', 1821, 'e4,Nc6,Nf3,d6,d4,Bg4,Be3,Nf6,Bd3,e5,d5,Nd4,Bxd4,exd4,h3,Bh5,g4,Bg6,Nxd4,Be7,f4,Bxe4,Bxe4,Nxe4,Nd2,Bh4+,Kf1,Ng3+,Kg2,Nxh1,Qe2+,Be7,Rxh1,O-O,Nf5,Re8,Qd3,Bf6,c3,g6,Nh6+,Kg7,g5,Bxg5,fxg5,Qxg5+,Ng4,h5,Ne4,Rxe4,Qxe4,Qd2+,Nf2,Qxb2,Qd4+,Kg8,Re1,Qxa2,Re7,Qa5,Ne4,Rf8,Nf6+,Kg7,Ne8+,Kh6,Qg7+,Kg5,Qxf8,Qxd5+,Kf2,Qd2+,Re2,Qf4+,Ke1,Qg3+,Rf2,Qxc3+,Kf1,Qd3+,Kg2,Qe4+,Rf3,Qe2+,Rf2,Qe4+,Kh2,Qe5+,Kh1,Qe1+,Kg2,Qe4+,Rf3,Qe2+,Kg3', 'h4#', 'https://lichess.org/training/zbrro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zbsTr', 'Rapid', 'RSDON', 1746, 'Pinki1921', 1685, 'd4,e6,c4,c5,Nf3,d5,e3,cxd4,Nxd4,dxc4,Bxc4,Nc6,Nxc6,Qxd1+,Kxd1,bxc6,Ke2,Nf6,Re1,Bb4,Rd1,O-O,Kf1,Bb7,Kg1,Rad8,Rxd8,Rxd8,Be2,h6,Nc3,Bxc3,bxc3,Nd5,Bb2,Nb6,a4', 'Rd2,Ba3,Rxe2', 'https://lichess.org/training/zbsTr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbT2o', 'Rapid', 'Sokol1', 1606, 'notAgm090', 1668, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,Bb4,Bd2,O-O,h3,d6,a3,Ba5,b4,Bb6,Na4,Bd4,c3,Bb6,Nxb6,axb6,Nf3,Ne7,Bg5,Ng6,O-O,h6,Be3,Bd7,Bb3,Nf4,Bxf4,exf4,c4,c5,b5,Nh7,Re1,Re8,Qc2,f5,e5,Be6,Re2,Ng5,Nh2,dxe5,Rxe5,Qf6,Rae1,Nf7,R5e2,Rxa3,Nf3,Ng5,Ne5,Raa8,Qd2,Bf7,Qxf4,Bh5,f3,Rxe5,Rxe5,Qg6,Rxf5', 'Nxh3+,Kf1,Nxf4', 'https://lichess.org/training/ZbT2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbtUf', 'Blitz', 'iglookid', 1642, 'imantazkir', 1700, 'c4,Nf6,Nc3,e6,g3,d5,cxd5,exd5,e3,c6,Nge2,Bd6,Bg2,O-O,Rb1,Nbd7,b4,Re8,b5,Ne4,Nxe4,dxe4,bxc6,bxc6,Nc3,Nf6,Qa4,Bf5,Qxc6,Rc8,Qa6,Re7,O-O,Bg6,Nb5,Bc5,a4,Bb6,Ba3,Rd7,Nd6,Rxd6,Bxd6,Rc6,Ba3,h6,a5,Bc5,Qxc6,Bxa3,Qa4,Bc5,Qc2,Kh7,Qxc5,Qxd2,Qxa7,Nd5,Qb7,Nc3,Rb2,Ne2+,Kh1,Qd3,a6,Bh5,a7,Bf3,a8=Q,Nxg3+,hxg3', 'Qxf1+,Kh2,Qxg2#', 'https://lichess.org/training/ZbtUf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zBtUZ', 'Blitz', 'lucaweitzmann', 1653, 'gerodes', 1685, 'e4,e5,Nf3,Nf6,d3,Bc5,Be3,Bxe3,fxe3,d6,Nc3,Bg4,Be2,Nc6,h3,Bh5,g4,Bg6,g5,Nd7,h4,h6,h5,Bh7,gxh6,gxh6,Qd2,Qe7,O-O-O,O-O-O,Nd5,Qe6,Bf1,Rdf8,Bh3,Qe8,Rdg1,f5,exf5,Bxf5,Bxf5,Rxf5,Ne1,Qf7,e4,Rf2,Qe3,Nb6,c4,Nxd5,cxd5,Nd4,Qh3+,Kb8,Qe3,Rf8,Qxh6,Ne2+,Kd1,Nxg1,Rxg1,Rf1,Qg6,Qxg6,Rxg6,Rh8,h6,Rh1,h7,R1xh7,Kc2,a5,Kb3,b5,Nc2,Kb7,a4,b4,Ne3,Rh6,Rg7,R8h7,Rg8,Rh3,Nc4,Rxd3+,Kc2,Rd4,Nxa5+,Kb6,Nc6,Rxe4,Rb8+,Kc5', 'Rb5+,Kc4,b3#', 'https://lichess.org/training/zBtUZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZBuQf', 'Rapid', 'edualves1984', 1724, 'Anti_GM1', 1788, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,cxd5,exd5,e3,Bf5,Bd3,Bxd3,Qxd3,c6,Nge2,Nbd7,O-O,O-O,f3,Bd6,e4,dxe4,fxe4,Bb4,e5,Nxe5,Qg3,Ned7,Ne4,Be7,Bh6,Nh5,Qg4,Ndf6,Nxf6+,Bxf6,Qxh5,gxh6,Qxh6,Bg7,Qh3,Bxd4+,Nxd4,Qxd4+,Kh1,Qxb2,Rae1,Rae8,Qg4+,Qg7,Qd7,Rxe1,Rxe1,Qc3,Qe7,Qb2,h3,a5,Re3,Qb4,Rg3+,Kh8', 'Qf6#', 'https://lichess.org/training/ZBuQf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbUry', 'Rapid', 'YoshiroTyan', 1903, 'LiveTrompy', 2070, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Bg4,d4,Nf6,h3,Bh5,Be2,c6,O-O,Nbd7,Nh4,Bxe2,Nxe2,e6,c4,Be7,Bf4,Qb4,Qc2,O-O,Rfd1,Rad8,Bc7,Rc8', 'a3,Qxc4,Qxc4', 'https://lichess.org/training/ZbUry');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZbUwX', 'Rapid', 'hals_MF', 1783, 'iim', 1672, 'e4,c5,c3,d6,d4,b6,Nf3,g6,d5,e6,c4,Nf6,Nc3,Bg7,Bg5,O-O,Bd3,a6,O-O,exd5,cxd5,b5,Rb1,c4,Ne2,cxd3,Qxd3,Nbd7,Ng3,Nc5,Qc2,Qe8,Bf4,Qd7,b4,Nb7,a3,Qe8,Rfe1,a5,bxa5,Rxa5,e5,dxe5,Nxe5,Ra4,Nxg6,Qd8,Nxf8,Bxf8,Be5,Bd7,Qd2,Bg7,Qg5,Qf8,Nh5,Nxh5,Qxh5,Bg4,Qg5,Nc5,Bxg7,Qxg7,Qxg7+,Kxg7,h3,Bd7,d6,Rxa3,Rbc1,Nb7,Rc7,Nxd6,Rxd7,Nf5,Rb7,Rb3,Re5,Nd4,Ree7,Rb1+,Kh2,b4,Rxf7+,Kg6,Rxh7,b3,Rhg7+,Kh6,Rg4,Ne2,Rb8,Kh7,Rbg8,b2,R8g7+,Kh8,R7g5', 'Rh1+,Kxh1,b1=Q+,Kh2,Qg1#', 'https://lichess.org/training/ZbUwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZByA7', 'Rapid', 'Wladimir2020', 1833, 'Farouk1975', 1831, 'c4,c5,a3,Nc6,Nc3,e6,e4,Nge7,d3,h6,h3,Ng6,Be2,Nd4,Bg4,a6,Nf3,h5,Nxd4,hxg4,Nde2,Nh4,Kf1,gxh3,Rxh3,Be7,g3,Ng6,Rxh8+,Nxh8,Nf4,g5,Nh5,Qc7,Ng7+,Kf8,Nh5,f5,exf5,exf5,Nd5,Qc6,Nxe7', 'Qh1+,Ke2,Qxh5+,Kd2,Qxd1+,Kxd1,Kxe7', 'https://lichess.org/training/ZByA7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZByLb', 'Rapid', 'amar18', 1754, 'RollyBall', 1708, 'd4,d5,Bf4,Bf5,Nc3,c6,g4,Bxg4,h3,Bf5,Nf3,h6,Bxb8,Rxb8,e3,e6,Bd3,Qf6,Bxf5,Qxf5,Ne5,Nf6,f4,Ne4,Nxe4,Qxe4,Kd2,c5,Qh5,g6,Qe2,cxd4', 'Qb5+,Ke7,Qd7+,Kf6,Qxf7#', 'https://lichess.org/training/ZByLb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zbZbj', 'Blitz', 'JutishJuggernaut', 1707, 'Sachadam', 1718, 'e4,e6,d4,d5,exd5,exd5,Nf3,Qe7+,Be3,Nf6,Bd3,Qb4+,Bd2,Qxb2,Nc3,Qb6,O-O,Bd6,Bg5,Be7,Re1,Be6,Qe2,Qd6,Nb5,Qc6,Ne5,Qb6,Rab1,a6,Nc3,Qxd4,Bxf6,Bxf6,Nxf7,O-O,Qxe6,Rxf7,Nxd5,Nd7,Rxb7,Rb8,Rxc7,Be5,Rxd7', 'Qxf2+,Kh1,Qxe1+,Bf1,Qxf1#', 'https://lichess.org/training/zbZbj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZC0wx', 'Rapid', 'OlgaShevchenko', 1850, 'tanakas1973', 1915, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,d3,d6,O-O,h6,Be3,Bb6,Bxb6,axb6,a3,Be6,Bxe6,fxe6,Re1,O-O,d4,exd4,Nxd4,Nxd4,Qxd4,Ng4,f3,Ne5,Kh1,Qg5,Ne2,Nc6,Qc4,Qe7,c3,Ra5,Nd4,Nxd4,cxd4,Rh5,Rg1,Kh8,Rac1,c6,Qb4', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/ZC0wx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zc1Rp', 'Rapid', 'salte', 1639, 'Clevert0n', 1726, 'd4,Nf6,c4,e6,a3,d5,cxd5,exd5,Nc3,Nc6,Bg5,h6,Bf4,Be6,e3,Bd6,Bxd6,Qxd6,Nf3,a6,Na4,b6,Rc1,O-O,Qc2,Bd7,Bd3,Ra7,O-O,Ne7,Nc3,Bg4,Ne5,Be6,Ne2,c5,Nf4,Rc8,Qe2,c4,Bb1,Nc6,Nxe6,Qxe6,Nf3,Ne4,Nh4,Rac7,f3,Nf6,Bf5,Nxd4,Bxe6,Nxe2+,Kf2,Nxc1,Bxc8,Nd3+,Kg1,Rxc8,Nf5,Nxb2,Ne7+,Kf8,Nxc8,b5,Nd6,Nd3,Nf5,a5,Nd4,b4,axb4,axb4,Rd1,b3,Kf1,b2,Ke2,c3', 'Kxd3', 'https://lichess.org/training/Zc1Rp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZC7Pa', 'Rapid', 'Wess26', 1814, 'o_lll', 2086, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Re1,d6,h3,O-O,Nc3,h6,d3,Be6,Bb3,a5,a4,Qd7,Nd5,Bxd5,exd5,Nb4,c3,Nbxd5,d4,e4,Bxd5,Nxd5,Rxe4,Qf5,Qd3,Nf6,Nh4', 'Qxe4,Qxe4,Nxe4', 'https://lichess.org/training/ZC7Pa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zc8rQ', 'Rapid', 'ez11', 1680, 'muhyet', 1658, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Nc6,Bb5,Bg4,Bxc6+,bxc6,O-O,c5,dxc5,e6,h3,Bf5,Qe2,Be7,g4,Bg6,Ne5,Bf6,Nxg6,hxg6,Rd1,Rxh3,c4,Bxb2,Rxd5,Qh4,Bxb2', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/Zc8rQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zC9XG', 'Rapid', 'andytalented', 2012, 'easaahmad', 2031, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,Bxc6,dxc6,O-O,Ng4,h3,h5,Bg5,Be7,Bxe7,Qxe7,c3,Nf6,Nbd2,Be6,d4,exd4,cxd4,O-O-O,e5,Nd5,Qa4,Kb8,Nc4,Nb4,Na5,c5,a3,Bd7,Qb3,b6,axb4,bxa5,bxc5+,Ka8,Rxa5,Rb8,Qd5+,c6,Qa2,Rb7,b4,Be6,Qb2,g5,b5,g4,hxg4', 'hxg4,b6,gxf3', 'https://lichess.org/training/zC9XG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zCA5h', 'Rapid', 'Juodvarnis62', 1650, 'MoiRon', 2008, 'e4,Nf6,d3,d6,c4,e5,Nf3,Be7,Nc3,h6,Be2,Nh7,h3,Ng5,Nh2,Ne6,Nd5,c6,Nxe7,Qxe7,Be3,Nd4,Bxd4,exd4,O-O,c5,Bg4,Nd7,Qa4,O-O,b4,Nb6,Qb5,Bxg4,Nxg4,h5,Nh2,Nd7,bxc5,dxc5,Nf3,a6,Qxb7,Rfb8,Qd5,Nb6,Qxh5,g6,Qh6,Nd7,Ng5,Nf6,f4,Qf8,Qh4,Nh5,f5,f6,Ne6,Qh6,Kh2,g5,Qf2,g4,h4', 'g3+,Qxg3+,Nxg3', 'https://lichess.org/training/zCA5h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZCAwl', 'Rapid', 'MorbidCorpse', 1881, 'abupif', 1877, 'e4,e6,e5,d5,d4,c5,c3,Nc6,Nf3,Qb6,Qb3,Bd7,Be3,cxd4,Qxb6,axb6,cxd4,Bb4+,Nc3,Na5,Bd3,b5,O-O,Nc4,a3,Be7,Bg5,f6,exf6,Bxf6,Rfe1,Ke7,Nxd5+,Kf7,Nxf6,gxf6,Bh4,Ne7,Bxc4,bxc4,Rac1,b5,Re2,Nd5,Bg3,Rhg8,Rce1,b4,axb4,Nxb4,Rc1,Rac8,Re3,Nd5,Re2,Bb5,Rec2,Nb4,Rc3,Na2,Ra1,Nxc3,bxc3,Bc6,Ra7+,Ke8,Rxh7,Bxf3,gxf3,e5,dxe5,fxe5,Kf1,Rg5,Bh4,Rf5,Re7+,Kf8,Ke2,Rh5,Bf6,Rxh2,Rxe5,Kf7,Bg5,Rh1,Be3,Rc1,Bd4,Rb8,Ke3,Re1+,Kf4,Re8,Rc5,Kg6,Rc6+,Kh5,Rc5+,Kh4,Bf6+,Kh3,Rh5+,Kg2,Bd4,Rf8+,Kg4,Re6,f4,Re4,Rf5,Rg8+,Rg5', 'Rxg5+,Kxg5,Rxd4', 'https://lichess.org/training/ZCAwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZcBoy', 'Rapid', 'abdlkbir-king', 1853, 'xeroxx', 2110, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,Bd7,Be2,Bc6,Ng3,Nd7,d4,Ngf6,Bd3,Bxf3,Qxf3,c6,Bf4,Be7,c3,Qb6,O-O-O,c5,Be5,cxd4,Bxd4,Bc5,Bc2,a5,Rhe1,a4,Nf5,O-O,Nh6+,Kh8,Ng4,Bxd4,Rxd4,a3,b4,Nxg4,Qxg4,Nf6,Qh3,e5,Rxe5,Rfe8,f4,Red8,Rf5,g6,Rxd8+,Rxd8,Rc5,Qd6,Qe3,Ng4,Qd4+,Qxd4,cxd4,Rxd4,f5,Rxb4,fxg6,hxg6,Bb3,Kg7,h3,Nh6,g4,Rb6,Rc7,Kf8,g5,Nf5,Rxf7+,Ke8,Rf6,Rb4,Rxg6,Nd4,Rf6,Nxb3+,axb3,Rxb3,g6,a2,Kc2,Rxh3,Kb2,Rh2+,Ka1,b5', 'g7,Rh1+,Kxa2,Rg1,Rf8+', 'https://lichess.org/training/ZcBoy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZCD3t', 'Rapid', 'IlnazYunusov', 1784, 'Chalenko_Sergej', 1794, 'e4,Nc6,Bc4,e6,d4,d5,exd5,exd5,Bb3,Nf6,h3,Be6,Nf3,Na5,Nc3,Nxb3,cxb3,c6,Bg5,Be7,Qd3,h6,Bh4,O-O,g4,Nh7,Bxe7,Qxe7,O-O-O,Ng5,Ne5,c5,Rde1,c4,bxc4,dxc4,Qg3,b5,f4,Nh7,f5,b4,fxe6,Qg5+,Kc2,bxc3,exf7+,Rxf7,Nxf7', 'Qd2+,Kb1,Qxb2#', 'https://lichess.org/training/ZCD3t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zCdzG', 'Blitz', 'RicMarshall', 1606, 'cracotte', 1593, 'e4,Nc6,Nf3,f5,exf5,d5,d4,Bxf5,Nc3,Nf6,Bg5,Nd7,Nxd5,Nb6,Nxb6,axb6,c3,Qd5,Ne5,Nxe5,dxe5,Qxe5+,Qe2,Qxe2+,Bxe2,O-O-O,O-O,h6,Bf4,g5,Be5,Rg8,Bc4,e6,a4,Bd6,Bf6,Rdf8,Bd4,e5,Bxg8,Rxg8,Be3,Bd3,Rfd1,e4,b4,h5,f3,Be2,Rd5,exf3,gxf3,Bxf3,Rxg5,Re8,Bd4,h4,Rf5,Bg4,Rff1,Re2,Rf2,Re6,Rg2,Bf3,Rg8+,Kd7,h3,Bd5,Rh8,Re2,Rxh4,Rc2,a5,Bh2+,Kf1,Bc4+,Ke1,Bg3+,Kd1,Re2,Rh7+,Kc6,Rh6+,Kd5,axb6,c6,Ra8,Re1+,Kc2,Re2+,Kb1,Bd3+,Ka1,Re1+,Kb2,Re2+,Kb3', 'Bc4+,Ka4,Ra2#', 'https://lichess.org/training/zCdzG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcGam', 'Classical', 'phantom567459', 1902, 'Halehandros', 1893, 'd4,d5,c4,c6,Nf3,dxc4,Qc2,b5,a4,Be6,e4,Bg4,Ne5,Be6,axb5,cxb5,d5,Bd7,Be2,f6,Nf3,e5,Be3,Bb4+,Nc3,Ne7,O-O,Bxc3,bxc3,a6,Rfd1,O-O,Bc5,Re8,Qd2,Ng6,Be3,Bg4,d6,Be6,h4,Nf8,Nh2,Nbd7,Bg4,Bxg4,Nxg4,Kh8,f3,Ng6,g3,Ngf8,Bf2,Ne6,Ne3,Ndc5,Nf5,Nd3,h5,Ng5,Kg2,g6,hxg6,hxg6,Nh4,Kg7,Be3,Qxd6,Bxg5,fxg5,Qxg5,Qf6,Qe3,Re7,Kh2,Rh8,Kg2,Rh5,Rh1,Qe6', 'Nf5+,gxf5,Rxh5', 'https://lichess.org/training/zcGam');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZCgCS', 'Rapid', 'MaMadfghjkl', 2146, 'fiermallakaster', 2217, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,Qc7,Qd2,b5,O-O-O,Bb7,g3,Nf6,f3,Rc8,Bh3,Bb4,a3,Bxc3,Qxc3,O-O,Nxc6,Bxc6,Bf4,Qb7,Qe3,b4,axb4,d5,Bd6,Rfd8,e5,Ne8,Bc5,d4,Rxd4,Bxf3,Rf1,Rxd4,Bxd4,Be4,Bc3,Bd5,Qf4,Rc4,Qf2,g6,Bd2,Re4,Bc3,Qd7,Bg2,Rc4,Bxd5,exd5,e6,Qxe6,Re1,Re4,Rxe4,dxe4,Qd4,f6,b3,e3,Qc4,Kf7,Kd1,Qxc4,bxc4,Nd6,c5,Nb5,Bb2,f5,c4,Nc7,Ke2,g5,Kxe3,h5,Be5,Ne6,c6,Ke7,c7,Kd7,b5,axb5,cxb5,Nxc7,Bxc7,Kxc7,Kd4,Kb6', 'Ke5,f4,gxf4,gxf4,Kxf4,h4,Kg4,h3,Kxh3', 'https://lichess.org/training/ZCgCS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZCGJv', 'Rapid', 'venkateshwarlu', 1982, 'CaHe4eK1989', 1977, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,d4,d5,Bb3,Bg4,h3,Bh5,Qd3,Bg6,Nxe5,Nxe5,dxe5,c6,c4,Nxf2,Qf3,Ne4,cxd5,cxd5', 'Ba4+,b5,Bxb5+', 'https://lichess.org/training/ZCGJv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zchpI', 'Rapid', 'Lakesha101', 1723, 'wollskowski', 1725, 'e4,c5,Qh5,Nf6,Qxc5,e6,Qg5,d5,e5,Ne4,Qxd8+,Kxd8,d3,Nc5,b4,Ncd7,d4,Bxb4+,c3,Ba5,Bb5,a6,Bxd7,Bxd7,Nf3,Nc6,Ng5,Ke7,O-O,f6,Nh3,fxe5,Bg5+,Kd6,dxe5+,Kxe5,f4+,Kf5,a4,h6,Bh4,Rhf8,Rf3,Kg6,Nd2,Kh7,g4,d4,Nc4,Bxc3,Raf1,Rae8,g5,e5,gxh6,Bxh3,hxg7,Kxg7,Rxh3,Rxf4,Rg3+,Kh6', 'Bg5+,Kh5,Bxf4', 'https://lichess.org/training/zchpI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zci8T', 'Rapid', 'BahnReturnZZZ', 2353, 'YoungBeta', 2365, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,Nc3,Nbd7,e4,e5,d5,a5,a3,Nc5,Re1,Bd7,Bd2,a4,b4,axb3,cxb3,Qe7,b4,Na4,Rc1,Nxc3,Rxc3,c6,dxc6,Bxc6,Bg5,h6,Bxf6,Qxf6,Qd3,Qe6,Nd2,Rfd8,Nc4,d5,exd5,Bxd5,Bxd5,Rxd5,Qe3,Rc8,Nb6', 'Rxc3,Nxd5,Rxe3', 'https://lichess.org/training/zci8T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcip3', 'Rapid', 'willybilly', 1608, 'SPerry01', 1672, 'd4,e6,Bf4,f5,e3,Nf6,Bc4,Be7,Ne2,O-O,c3,d6,Nd2,c5,Qc2,a5,O-O,cxd4,cxd4,Kh8,Ng3,Qe8,e4,b5,Bd3,fxe4,Ndxe4,Nxe4,Bxe4,Ra6,Be3,d5,Bxh7,Rc6,Qd3,Rc4,b3,Rc7,Bg6,Qd7,f4,Bh4,f5,Bxg3,fxe6,Bxh2+,Kxh2,Qd6+,g3,Bxe6,Rxf8+,Qxf8,Rf1,Qd6,Qxb5,Nd7,Qxa5,Nf8,Qa8,Kg8,a4,Rc2+,Bf2,Re2,a5,Qe7,a6,Qf6,Kg1,Qxg6,a7,Rxf2', 'Kxf2,Qe4,Qxf8+,Kxf8,a8=Q+', 'https://lichess.org/training/zcip3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcJMS', 'Blitz', 'Avelar29', 1758, 'Motmaenfar', 1645, 'd4,e6,c4,d5,Nf3,c5,cxd5,exd5,dxc5,Bxc5,g3,Qa5+,Nc3,Qb6,e3,Be6,Bg2,Ne7,O-O,O-O,Na4,Qc7,Qc2,b6,Nxc5,bxc5,b3,Nd7,Bb2,f6,Rac1,Rac8,Nd4,Bf7,Bh3,Bg6,Qd2,Qd8,Ne6,Qe8,Nxf8,Kxf8,Ba3,Ne5,Bxc8,Nf3+,Kg2,Nxd2,Rfd1,Nxb3,axb3,Qxc8,Bxc5,Be4+,f3,Bxf3+,Kxf3,Qf5+,Kg2,Qe4+,Kf2,Kf7,Bxe7,Kxe7,Rc7+,Ke6,Rdc1,Qf5+,Ke2,Qg4+,Kd3,Qe4+,Ke2,Qg2+,Kd3,Qxh2,R1c6+,Kf5,Rxg7,Qh1', 'g4+,Ke5,Re7#', 'https://lichess.org/training/zcJMS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZcJy0', 'Blitz', 'Sembodo_One', 1939, 'Billions21', 1966, 'Nf3,c5,b3,Nc6,Bb2,e6,e4,d5,e5,d4,Bd3,Nge7,Na3,Ng6,Nc4,b5,Nd6+,Bxd6,exd6,a6,a4,b4,O-O,Qxd6,c3,dxc3,dxc3,O-O,c4,Qe7,Be4,Bb7,Qe2,Rad8,Rfd1,Rxd1+,Rxd1,Rd8,h4,Nxh4,Rxd8+,Qxd8,Bxc6,Bxc6,Ne5,Bxg2,Qh5,Be4', 'Qxf7+,Kh8,Ng6+,Bxg6,Qxg7#', 'https://lichess.org/training/ZcJy0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcKCy', 'Rapid', 'mate_shegelia', 2359, 'krequs', 2177, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Qa5+,Nbd2,Qa6,Qxa6,Nxa6,O-O,c5,c4,Ne7,Rd1,Nf5,dxc5,Bxc5,cxd5,exd5,Nb3,Rd8,Bg5,Be7,Rac1,O-O,Bxe7,Nxe7,Nfd4,Ng6,Re1,Rfe8,e6,Nf4,exf7+,Kxf7,Rxe8,Rxe8,Rd1,Nb4,Nc1,Nc6,Nf3,Ne2+,Kf1,Nxc1,Rxc1,d4,Rd1,h6,Rd2,Re4,a3,a5,Ne1,g5,Nd3,b6,Rc2,Re6', 'Rxc6,Rxc6,Ne5+,Ke6,Nxc6', 'https://lichess.org/training/zcKCy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcKqf', 'Rapid', 'TheSelim', 2508, 'IM Alex_Molchanov', 2503, 'Nf3,d5,d4,Nf6,c4,e6,Nc3,a6,a4,Bb4,Bd2,O-O,e3,c5,dxc5,Nbd7,cxd5,exd5,Be2,Nxc5,O-O,Bf5,h3,Rc8,Nh4,Be6,Nf3,Qa5,Nd4,Rfd8,Bf3,Nfe4,Rc1,Nxd2,Qxd2,Ne4,Bxe4,dxe4,Qc2,Bxc3,bxc3,Bc4,Rfd1,Bd3,Qa2,Rc7,Qa1,Rdc8,Nb3,Qg5,Nd4,Rc4,Rd2,Qa5,Qa3,g6,Ra2,Rxc3,Rxc3,Rxc3,Qe7,Rc1+,Kh2,Qc7+,Qxc7,Rxc7,g4,b5,axb5,axb5,Ra8+,Kg7,Rb8,Rc1,h4,h6,Kg3,Rb1,Rb7,Rg1+,Kf4,Rh1,Kg3,Rg1+,Kf4,Rh1,h5,gxh5,Nf5+,Kh7,Rxf7+,Kg8', 'Nxh6+', 'https://lichess.org/training/zcKqf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zckVk', 'Rapid', 'fcastellote57', 1789, 'zest_is_best', 1839, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nf3,Bg4,Be2,e6,c5,Nc6,Be3,Be7,O-O,O-O,a3,a5,Nc3,b6,b4,axb4,axb4,Rb8,b5,Nb4,c6,Bf5,Bf4,Bd6,Bxd6,Qxd6,Ne5,Rfd8,Ra7,Nc2,Bd3,Nxd4,Bxf5,Qxe5,Bd3,Nf5,Qc2,d4,Na4,Nd6,c7,Nxb5,cxd8=Q+,Rxd8,Nxb6,Nxa7,Nc4,Qc5,Qa4,e5,Nxe5,Qxe5,Qxa7,Nd5,Qa5,Qd6,Re1,Nf4,Qb5,Rb8', 'Re8+,Rxe8,Qxe8+,Qf8,Bxh7+,Kxh7,Qxf8', 'https://lichess.org/training/zckVk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcl6A', 'Rapid', 'milan4321', 2212, 'ICKYQUARTER2', 2157, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,O-O,Nc3,d6,Nf3,Nc6,O-O,e5,d5,Na5,Qd3,c5,e4,Ne8,Be3,f5,Bg5,Bf6,Bh6,Bg7,Bxg7,Kxg7,exf5,gxf5,Nh4,e4,Qc2,Nf6,b3,b6,Bh3,Ne8,f3,e3,f4,Kh8,Bxf5,Bxf5,Nxf5,Qf6,Nxe3,Ng7,Rae1,Rae8,Ne4,Qd4,Nxd6,Rxe3,Rxe3,Qxe3+,Qf2,Qe7,Nb5,Nf5,Re1,Qg7,Re5,Nb7,Qe1,Nbd6,Nxd6,Nxd6,Re7,Qd4+,Kg2,a5,Qe2,Nf5,Re5,Nd6,Qh5,Qd2+,Kh3,Qd3,Re7', 'Qf1+,Kh4,Nf5+', 'https://lichess.org/training/zcl6A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZCLvo', 'Blitz', 'luaysuidaan', 1663, 'firefocks', 1756, 'd4,d5,c4,e5,cxd5,Qxd5,Nf3,Nc6,Nc3,Qa5,d5,e4,Ng5,Bb4,Qb3', 'Nd4,Qd1,Bxc3+,bxc3,Qxc3+', 'https://lichess.org/training/ZCLvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZcM6I', 'Classical', 'ilhankaya', 1842, 'pheldda', 1795, 'e4,c5,Nf3,Nc6,Bb5,Qc7,c3,Nf6,d3,e6,Be3,a6,Ba4,b5,Bc2,Bb7,O-O,Rd8,Re1,d5,exd5,Nxd5,Bg5,Be7,Nbd2,h6,Bxe7,Ncxe7,Ne4,Nf5,Qe2,O-O,Rad1,Nf4,Qd2,c4,d4,e5,Nxe5,Nd3,Nxd3,Bxe4,Rxe4,cxd3,Qxd3,g6,Rde1,Kg7,Rg4,Rfe8,Ree4,Nd6,Re3,f5,Rh4,Nc4,Re2,Nxb2,Qd2,Nc4,Qxh6+,Kf6,Bd3,Nd6,h3,Qxc3,Rxe8,Rxe8,Qf4,Re6,Rh7,Qxd3', 'Qh4+,g5,Qh6#', 'https://lichess.org/training/ZcM6I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZCmKf', 'Rapid', 'LordofHosts', 1744, 'SaaleKorge', 1714, 'e4,c5,Nf3,Nc6,Bb5,Nf6,Nc3,e5,O-O,d6,a3,Bd7,Bxc6,Bxc6,b4,Bxe4,bxc5,Bxf3,Qxf3,d5,Re1,e4,Qf5,Bxc5,d3,O-O,Bg5,Bd4,Nxd5,Qxd5,Qxd5,Nxd5,Rad1,Nc3,Rd2,Rfe8,dxe4,Re5,Bf4,Bxf2+,Rxf2,Rxe4,Rxe4,Nxe4,Rf3,Rd8,Rd3,Re8,g3,Nc5,Rd5,b6,c4,h5,Bd6,g6,Bxc5,bxc5,Rxc5,Re1+,Kf2,Ra1,Ra5,Ra2+,Kg1,Ra1+,Kg2,Ra2+,Kh3,Rc2,c5,f5,Rxa7,Rxc5,a4,Rc3,a5,f4,Kh4,f3,Kh3,f2,Kg2,Rf3,Kf1,g5,Rb7,h4,gxh4,gxh4', 'a6,Ra3,a7,Ra1+,Kxf2', 'https://lichess.org/training/ZCmKf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zCnMg', 'Blitz', 'mo-chess', 1618, 'Paradiddle16', 1627, 'd4,d5,Nf3,Nf6,Bg5,e6,c4,Nbd7,e3,c6,a3,Qa5+,Nc3,Ne4,Qc2,Nxg5,Nxg5,dxc4,Bxc4,Qxg5,Rg1,Bd6,Ne4,Qe7,O-O-O,Bc7,Nc3,b5,Bd3,O-O,Bxh7+,Kh8,Bd3,Nf6,g4,Nd5,Ne4,Bd7,g5,a5,Rg4,b4,Rh4+,Kg8,Nc5,bxa3,Bh7+,Kh8,Be4+,Kg8', 'Bh7+,Kh8,Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/zCnMg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcnSi', 'Rapid', 'muyunda', 1779, 'mahdikhassi', 1708, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d3,c5,a3,Nc6,Nf3,Bg4,h3,Bh5,Bg5,Be7,Nc3,d4,Ne2,O-O,Qd2,Re8,O-O-O,Nd5,g4,Bg6,h4,h6,h5,Bxg5,Nxg5,Rxe2,Qxe2,Qxg5+,Kb1,Bh7,Rde1,Nf6,Rhf1,Qxg4,f3,Qxh5,Rg1,Kf8,Rh1,Qf5,Qg2,Ne5,f4,Nxd3', 'Qxb7,Qd7,Qxa8+', 'https://lichess.org/training/zcnSi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zCoGb', 'Rapid', 'partha_kisor', 1943, 'ViDrOHi', 1884, 'd4,Nf6,Bf4,d5,Nc3,g6,Qd2,Nc6,h4,a5,a3,e6,f3,Bd7,g4,Na7,g5,Nh5,Be3,Nb5,Nxb5,Bxb5,Bf2,c5,O-O-O,c4,e4,Ba6,e5,Qb6,c3,Bxa3,bxa3,O-O,Qb2,Qc6,Rd2,Nf4,Nh3,Nxh3,Bxh3,b5,Kd1,b4,Ke2,Rab8,Rhd1', 'bxc3,Qxc3,Rb3', 'https://lichess.org/training/zCoGb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcPdi', 'Rapid', 'amrasd123', 2323, 'distructor', 2201, 'e4,e6,Nf3,d5,Nc3,Nf6,exd5,exd5,d4,Bb4,Bd3,O-O,O-O,Bg4,Bg5,c6,h3,Bh5,g4,Bg6,Bxg6,hxg6,Ne5,Be7,Qf3,Nbd7,Rae1,Re8,Nxd7,Qxd7,Re5,Bd6,Bxf6,Bxe5,Bxe5,f6,Bg3,g5,Nd1,Re4,c3,Rae8,Ne3,Qe6,Nf5,Rd8,b3,g6,Ne3,Re8,Rd1,Rf8,h4,gxh4,Bxh4,f5,gxf5,gxf5,Ng2,Rg4,Bg3,f4,Re1,Qf5,Re5,Qg6,Bh2,Qb1+,Re1', 'Qxe1#', 'https://lichess.org/training/zcPdi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcqp9', 'Classical', 'Minotaurus35', 1650, 'Vilsu', 1613, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,O-O,Bg4,h3,Bh5,Nc3,e6,d4,Nf6,Qd2,Bxf3,Qf4,Bh5,Re1,Be7,Qg5,O-O,Bf4,Nxd4,Be5,Nxc2,Bxf6,Bxf6,Qxh5,Nxa1,Bd3,g6,Qh6,Bg7,Qc1,Re8,Qxa1,d4,Ne4,e5,Qc1,f5,Ng5,Bh6', 'Qc4+,Kh8,Nf7+,Kg7,Nxd8', 'https://lichess.org/training/zcqp9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZcQQm', 'Blitz', 'mart55', 1772, 'shahrad_amani', 1699, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Be3,O-O-O,c4,Qh5,Be2,e5,d5,Bb4+,Nc3,e4,Nd4,Nxd4,Bxd4,Bxe2,Qxe2,Qxe2+,Kxe2,Bxc3,Bxc3,Nf6,h3,Rhe8,Rhe1,Nh5,Bd2,f5,Kd1,h6,Kc2,g5,Re2,Re7,Rae1,Rde8,g4,fxg4,hxg4,Nf4,Bxf4,gxf4,Kc3,Kd7,Kd4,c5+,dxc6+,Kxc6,b4,Rd7+,Kc3,Rd3+,Kc2,Red8,Rxe4,Rd2+,Kb3', 'R8d3+,Ka4,Rxa2#', 'https://lichess.org/training/ZcQQm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZcrBm', 'Blitz', 'anespin', 1611, 'nerpa', 1573, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,c6,Ba4,Nf6,d3,Bc5,e5,Nd5,c4,Ne7,Re1,O-O,Nd2,h6,Ne4,Bb6,Nd6,Ng6,Qg4,Bc7,f4,Bxd6,exd6,Qf6,f5,Ne5,Rxe5,Qxe5,Bxh6,g6,fxg6,fxg6,Qxg6+,Kh8,c5,Rg8,Qf7,b5,Bb3,Ba6,Rf1,Qxc5,Qf6+,Kh7,Bxg8+,Rxg8,Qf7+,Kh8,Rf6,Qe5,Bg7+,Rxg7', 'Rh6+,Rh7,Qxh7#', 'https://lichess.org/training/ZcrBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zcs6B', 'Rapid', 'Gallaorol_8107', 1957, 'MrTimon100', 2077, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,d3,g6,Be3,Bg7,c3,O-O,Nbd2,Nc6,Rc1,Ng4,Re1,Nxe3,Rxe3,e6,Re1,d5,Nb3,b6,d4,dxe4,Rxe4,Rfd8,Qe1,c4,Nbd2,b5,Nf1,Ne7,Ne5,Bxe5,Rxe5,Nd5,Ng3,Nf4,Ne4,Qe7,Nc5,Rd5,Rxd5,Nxd5,Qe4,Rb8,a3,a5,h3,Rb6,Re1,b4', 'Qxd5,exd5,Rxe7', 'https://lichess.org/training/Zcs6B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zCtbc', 'Blitz', 'IM dozer01', 2396, 'IM purzelbaumer', 2444, 'e4,c5,Nf3,g6,h4,h5,Bc4,Bg7,d3,d6,Be3,Bxb2,Nbd2,Bxa1,Qxa1,Nf6,Ng5,O-O,f4,Nc6,f5,Kg7,Rf1,Ne5,Ndf3,b5,Nxe5,dxe5,Bxf7,Rxf7,Nxf7,Kxf7,fxg6+,Ke6,Rf5,Qc7,g7,Bd7,Bf2,Rg8,Bg3,Ng4,Rg5,c4,d4,c3,Qd1,Qc4,Rxh5,Rxg7,Bxe5,Nxe5,Rxe5+,Kd6', 'Rd5+,Kc7,Rc5+,Qxc5,dxc5', 'https://lichess.org/training/zCtbc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcujr', 'Rapid', 'VitalyChess', 1709, 'yorauly', 1773, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,Bg5,Be7,Nc3,O-O,Bxc6,bxc6,Bxf6,Bxf6,h3,g6,Qe2,a5,a3,Re8,O-O-O,Ba6,h4,Qb8,Qe3,Qb7,h5,Rab8,b3,c5,hxg6,fxg6,Nd2,c6,Qh6,d5,exd5,cxd5,Rh3,Re7,Na4,Qc7,Qe3,Rc8,c4,dxc4,dxc4,Bb7,Ne4,Bxe4,Qxe4,Rd7,Rxd7,Qxd7,Rd3,Qe7,Rd5,Qf8,f3,Qh6+,Kb2,Qh2,f4,Qxf4,Qxf4,exf4+,Kc2,Bd4,Kd3,Kg7,b4,axb4,axb4,Bg1,Nxc5,h5,Ne4,h4,b5,f3,gxf3,h3,Ng3,h2,Ke2,Rxc4,Kf1,Rb4,Kg2,Rb2+,Kh1,Rb3,Nf1,Rxf3,Nxh2,Bxh2,Kxh2,Rb3,Kg2,Kh6,Kh2,g5,Kg2,Kh5,Kh2,Kh4,Kg2,g4,Rf5,Rb2+,Kg1,Kg3,Rg5', 'Rb1#', 'https://lichess.org/training/zcujr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZcUqX', 'Blitz', 'caspalov2', 1789, 'Eden_Puspus', 1736, 'b4,e5,Bb2,Qf6,Nf3,Bd6,e4,Nh6,Bc4,O-O,O-O,Qf4,d3,Bxb4,Bxe5,Qg4,h3,Qg6,Bxc7,Nc6,a3,Bd6,Bxd6,Qxd6,Nbd2,Kh8,Re1,f5,e5,Qg6,d4,d5,exd6,Qxd6,d5,Ne7,Qe2,Nxd5,Bxd5,Qxd5,c4,Qa5,Nb3,Qc7,Qe7,Bd7,c5,Rfe8,Qg5,Nf7,Qh5,g6,Qh4,Bc6,Qf6+,Kg8,Nbd4,Bxf3,Nxf3,Rxe1+,Rxe1,Qxc5,Re7,Qd5,Ng5,Rf8,Nxf7,Rxf7', 'Re8+,Rf8,Qxf8#', 'https://lichess.org/training/ZcUqX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZcUXY', 'Rapid', 'MahmoudeEldahdahy', 2017, 'wyattwong0608', 2060, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,O-O,e6,Bg5,Be7,Nd2,O-O,Bxf6,Bxf6,c3,Bxd4,cxd4,Nc6,e5,dxe5,dxe5,Nxe5,Bc2,b5,Nb3,Qg5', 'f4,Qh6,fxe5', 'https://lichess.org/training/ZcUXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZCv7M', 'Rapid', 'regato', 1721, 'Veles21', 1609, 'd4,d5,Bf4,Nf6,e3,Bg4,Nf3,Nc6,h3,Bh5,g4,Bg6,a3,Ne4,Bb5,h5,Ne5,hxg4,Qxg4,e6,Nxg6,fxg6,Qxe6+,Be7,Bxc6+,bxc6,Qxc6+,Kf8,Qxg6,Rh6,Qf5+,Rf6,Qh5,c6,Rg1,g6,Qh8+,Kf7,Qxd8,Rxd8,Bg3,Rh8,Rh1,Nxg3,fxg3,Rf3,Ke2,Rxg3,Nc3,Bg5,e4,Re3+,Kf2,dxe4,Rae1,Rxe1,Rxe1', 'Bh4+,Kf1,Bxe1', 'https://lichess.org/training/ZCv7M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZCVGK', 'Rapid', 'trialsbiker', 1664, 'ismael1', 1711, 'e4,c5,Nf3,g6,Be2,Bg7,O-O,Nc6,Nc3,Nf6,h3,d6,Bb5,O-O,d4,cxd4,Nxd4,Bd7,Be3,Nxd4,Bxd4,a6,Bd3,Rc8,e5,dxe5,Bxe5,Bc6,Re1,e6,Qd2,Qa5,Bf4,Nd5,Nxd5,Qxd2', 'Ne7+,Kh8,Bxd2', 'https://lichess.org/training/ZCVGK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zCVYT', 'Blitz', 'marcospinon', 1935, 'mar99arg', 1940, 'd4,c5,e3,cxd4,exd4,g6,Nf3,Bg7,Nc3,d6,Be3,a6,Qd2,Bd7,Bh6,Nf6,Bxg7,Rg8,Bxf6,exf6,Qe3+,Kf8,O-O-O,Kg7,h4,Nc6,h5,g5,h6+,Kh8,d5,Ne7,Bc4,Bf5,Ne4,Ng6,Ng3,Re8,Qb3,Bg4,Rde1,Qc7,Rxe8+,Rxe8,Re1,Rc8,Re4,Bxf3,gxf3,Ne5,Be2,Qa5,Bd3,Nxf3,Qxb7', 'Qd2+,Kb1,Qd1#', 'https://lichess.org/training/zCVYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcwMC', 'Rapid', 'mymiya', 1963, 'Farside', 2243, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Bd3,d5,exd5,Nxd5,O-O,Be7,Re1,Nc6,Be4,Be6,Qf3,O-O,Rd1,a5,Bxd5,Nd4,Rxd4,exd4,Bxb7,Rb8,Bf4,Bd6,Bxd6,Qxd6,N1d2,Qb6,Bd5,a4,Nc4,Qd8,Bxe6,fxe6,Qe4,axb3,Qxe6+,Kh8,axb3,Re8,Qg4,d3,cxd3,Qxd3,h3,Rxb3,Ra7,Qg6,Qd4,Re1+,Kh2', 'Rxh3+,gxh3,Qg1#', 'https://lichess.org/training/zcwMC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZCY1m', 'Blitz', 'nosep15', 1617, 'Taxation_Is_Slavery', 1562, 'd4,Nf6,c3,g6,Nf3,Bg7,Nbd2,O-O,Qc2,Nc6,Ne4,d5,Nxf6+,Bxf6,h4,e5,h5,Bg4,Bh6,Re8,hxg6,hxg6,Qd2,Bxf3,gxf3,exd4,Bf4,dxc3,bxc3,Ne5,Bxe5,Bxe5,f4,Bg7,Rc1,Qf6,Bg2,c6,f5,Qxf5,Bh3,Qf3,Rh2,Re7,Bg2,Qg4,Qd3,Rae8,e3,Qf4,Rh3,Qg4,Rg3,Qh4,Kd2,Bh6,Kc2,Bxe3,Rh1,Qa4+,Kb1,Bxf2', 'Rxg6+,fxg6,Qxg6+,Rg7,Qxe8#', 'https://lichess.org/training/ZCY1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zCYSt', 'Rapid', 'fuzzytree', 1765, 'DaniloFajardo', 1763, 'e4,e5,Nf3,Qf6,Nc3,c6,Bc4,Bc5,Qe2,Be7,d3,h6,a3,d6,h3,Qg6,g3,Qh5,g4,Bxg4,hxg4,Qxh1+,Qf1,Qxf1+,Kxf1,Nf6,Nh2,h5,f3,hxg4,Nxg4,Nxg4,fxg4,Bg5,Kg2,Bxc1,Rxc1,Nd7,Ne2,Nf6,Kg3,Ke7,g5,Nh5+,Kg4,g6,Rf1,Raf8,b4,Ng7,a4,Ne6,b5,Kd7,bxc6+,bxc6,Rb1,Nc5,a5,Rh2,d4,Nxe4,dxe5,Nd2,Rb7+,Kc8,Ba6,Kd8,Nd4,dxe5', 'Nxc6+,Ke8,Re7#', 'https://lichess.org/training/zCYSt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zcYUI', 'Rapid', 'Jovic16', 1767, 'isph372', 1761, 'e4,e5,Nf3,d6,Nc3,f5,exf5,Bxf5,d4,Qf6,dxe5,dxe5,Bd3,Bg4,Nd5,Qf7,Be2,Nc6,h3,Bxf3,Bxf3,O-O-O,Bg5,Be7,Bxe7,Ngxe7,Nxe7+,Qxe7,Bg4+,Kb8,Qe2,Qb4+,c3,Qf4,O-O,Rd2,Qb5,Rf8,Bf3,e4,Be2,Rf5,Qc4,Rfd5,Rad1,b5,Qxc6,Rxd1,Bxd1,Rd2,Qxb5+,Kc8,Bg4+,Kd8,Rd1', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/zcYUI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zcz7u', 'Classical', 'FSL13', 1755, 'CrazySheep', 1665, 'e4,e5,f4,Nc6,Nf3,exf4,d4,d6,Bxf4,Bg4,Nbd2,Qe7,Be2,Nf6,e5,Bxf3,Nxf3,dxe5,dxe5,Rd8,Qc1,Nh5,O-O,Nxf4,Qxf4,f6,exf6,Qxf6,Qxc7,Bc5+,Kh1,O-O,Bc4+,Kh8,Nd2,Qxb2,Rxf8+,Rxf8,Rf1,Qxc2', 'Rxf8+,Bxf8,Qf7', 'https://lichess.org/training/Zcz7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZCZrv', 'Blitz', 'IM Brian46', 2504, 'Arthas_tsalb', 2510, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Be3,c5,Rc1,O-O,Qd2,Re8,dxc5,Qa5,Bd4,Nc6,Bxg7,Kxg7,Nf3,Qxc5,Be2,Bg4,O-O,Red8,Qb2,Bxf3,Bxf3,Ne5,Be2,b6,Rcd1,Rac8,c4,e6,Kh1,Kg8,f4,Nc6,Qf6,Qe7,Qxe7,Nxe7,Rxd8+,Rxd8,Rd1,Rxd1+,Bxd1,e5,g3,f6,Kg2,Kf7,Kf3,Ke6,Ke3,Kd6,h4,Nc6,f5,Nd4,fxg6,hxg6,g4,Ke7,Kd3,Ne6,Kc3,Nc5,Bf3,a5,Kd2,Kf7,Ke3,Ne6,Bd1,Nf4,Kf3,Nd3,Ke3,Nb4,Be2,Nxa2', 'c5,bxc5,Bc4+,Kg7,Bxa2', 'https://lichess.org/training/ZCZrv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zd0xr', 'Rapid', 'ElTraficante', 1637, 'GraczZA', 1640, 'd4,Nf6,Bf4,e6,a3,d5,c4,b6,e3,Bb7,Nc3,Nbd7,Nb5,e5,dxe5,Ne4,e6,fxe6,Nxc7+,Kf7,Nxa8,Qxa8,Nf3,Ndf6,Ng5+,Nxg5,Bxg5,Be7,Bxf6,Bxf6,Bd3,dxc4,Bxc4,Rd8,Qb3,Rd6,f3,Qd8,O-O,Qc7,Rad1,Rxd1,Bxe6+,Kg6,Rxd1,Qc5,Qd3+,Kh6,Bg8,g6,Kf2,Bxb2,Qd7,Qc2+,Kg3', 'Be5+,Kh3,Bc8,Be6,Bxd7', 'https://lichess.org/training/zd0xr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZD44N', 'Rapid', 'Viktorvvv', 1996, 'khtabkhmal', 1967, 'e4,c5,Nf3,Nc6,c3,e5,d4,cxd4,cxd4,exd4,Nxd4,Bc5,Be3,Qb6,Nf5,Bxe3,Nxe3,Qxb2,Nd2,Nf6,Bc4,O-O,O-O,Qd4,Qe2,Nxe4,Nb3,Qb6', 'Nd5,Qd8,Qxe4', 'https://lichess.org/training/ZD44N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zd4Oy', 'Rapid', 'sega_mur', 1816, 'canonrick', 1684, 'e4,c5,Nf3,Nc6,d4,e6,d5,Nd4,Nxd4,cxd4,Qxd4,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,exd5,exd5,Nf6,Bg5,Be7,Re1,O-O,Nc3,Rfe8,Re2,Bd8,Rae1,Bb6,Qh4,Ng4,h3', 'Bxf2+,Qxf2,Nxf2,Rxe8+,Rxe8', 'https://lichess.org/training/zd4Oy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zD6C1', 'Blitz', 'AyMisho', 2435, 'jlievano', 2319, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nd7,Bd3,Bxd3,Qxd3,Ngf6,Bf4,Qa5+,Bd2,Qc7,O-O-O,e6,Kb1,Bd6,Ne4,Nxe4,Qxe4,Nf6,Qe2,O-O-O,g3,Kb8,c4,Ka8,c5,Be7,Bf4,Qa5,Ne5,Rhf8,Nc4,Qa6,Rd3,Qxc4,Rc1,Qd5,Qd1,Ne4,Ra3,Nxf2', 'Rxa7+,Kxa7,Qa4#', 'https://lichess.org/training/zD6C1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zd6Fp', 'Rapid', 'almarset', 2109, 'acrobionic', 2103, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,d4,cxd4,Nxd4,Nxe4,Re1,Nef6,Nc3,a6,Nf5,g6', 'Nxd6#', 'https://lichess.org/training/Zd6Fp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZD6Re', 'Classical', 'YaparDogukan', 1797, 'thor88', 1816, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Be3,Ne7,c3,c6,Bd3,Bf5,O-O,Bxd3,Qxd3,O-O,Nbd2,Na6,Rae1,Nc7,Ne5,f6,f4,fxe5,fxe5,Rxf1+,Rxf1,Ng6,exd6,Qxd6,Nf3,Rf8,Re1,Ne6,Bf2,Nef4,Qe3,h6,Bg3,Qd8,Ne5,Nxe5,Qxe5,Nd3,Qe6+,Kh8,Be5,Nxe1', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/ZD6Re');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zd72p', 'Classical', 'lecanyckin', 2120, 'Anggih_CASMA', 2185, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Bd3,c5,d5,e6,Nf3,exd5,cxd5,a6,a4,Re8,O-O,c4,Bc2,Nbd7,Re1,Ng4,h3', 'Qb6+,Be3,Nxe3', 'https://lichess.org/training/Zd72p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zD8sz', 'Rapid', 'carlos121220', 2040, 'neylucio', 2229, 'd4,Nf6,c4,g6,Nc3,d6,e4,Bg7,f3,O-O,Be3,e5,d5,c6,Qd2,cxd5,cxd5,Nh5,O-O-O,Na6,Nge2,Bd7,Kb1,b5,Rc1,Nc5,b4,Na4,Nxa4,bxa4,Nc3,a5,b5,f5,Ka1,fxe4,fxe4,Nf4,g3,Nh5,Be2,Nf6,h3,Rc8,Bd3,Nh5,Ne2,Nf4,Kb1,Nxd3,Qxd3,Bxb5,Qd2,Rb8,Ka1,a3,Rb1,Qc8,Rhc1,Qa6,Nc3,Bd3,Rb3,Rxb3,axb3,Rb8,Ka2,Qb7,Qd1,Qb4,Na4,Bxe4', 'Rc4,Qxb3+,Qxb3', 'https://lichess.org/training/zD8sz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdaw5', 'Classical', 'CorvusAuream', 1605, 'Darkknight55', 1612, 'e4,e5,Nf3,d6,Bb5+,Nd7,O-O,a6,Ba4,b5,Bb3,Bb7,Re1,Ngf6,d3,Nc5,c3,a5,Bc2,Be7,Nbd2,a4,Nf1,h6,Bd2,O-O,d4,exd4,cxd4,Ncxe4,Qe2,Qd7,Bxe4,Nxe4,Ng3,Nxg3,Qxe7,Qxe7,Rxe7,Bxf3,hxg3,Bd5,Rxc7,Rfe8,Rd7,Re6,Bf4,Ra6,a3,g5,Bd2,Kf8,Bb4,Ke8,Rc7,Bc6,Rc1,d5,Rc8+,Kd7,Rf8,f6,f4,h5,Kf2,gxf4,gxf4,Re4,Rxf6,Rxd4,Rh1,Re4,Rxh5,d4,Rh7+,Kd8,Rd6+,Kc8,Rh8+,Kc7,Rf6,d3,Rd6,Re2+,Kf1', 'Bxg2+,Kg1,Rxd6', 'https://lichess.org/training/zdaw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZDayB', 'Rapid', 'batoutofhell', 1778, '6Benja', 1684, 'e4,d5,exd5,Nf6,Nf3,e6,dxe6,Bxe6,Nc3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,Bd6,d3,O-O,h3,h6,Nh2,Bc8,Ne4,Bb7,Nxd6,cxd6,Ng4,c5,Nxf6+,Qxf6,Re1,Qg6,Qg4,Qh7,Re3,Bc8,Qg3,d5,Re5,Be6,Rh5,Qg6,Qxg6,fxg6,Rh4,g5,Ra4,Bd7,Ra3,c4,dxc4,dxc4,Rc3,Rfc8,b3,cxb3,Rxc8+,Rxc8,cxb3,g4,h4,Kf7,Be3,Rc2,Kf1,a5,Ke1,Bb5,Kd1,Rc6,Rc1,Rd6+,Ke1,a4,Rc7+,Kf6,Rc5,Bc6,g3,Bf3,Rc1,axb3,axb3,Rd3,b4,Rb3,Bc5,h5,Kd2,g5,hxg5+,Kxg5,Be3+,Kf6,Rc4,Rb2+,Kd3,Be2+,Kc3,Rb1,Rc5,Rh1,b5,Bf3,b6,Kg6,Rb5,Bb7,Kd4,h4,gxh4,Rxh4,Kd3,Ba6,Kc4,Bxb5+,Kxb5,Rh5+,Kc6,Rh8,b7,Kf5,Kc7,Ke4,b8=Q,Rxb8,Kxb8,Kf3,Kc7,g3,Bc5', 'g2,Kb6,g1=Q', 'https://lichess.org/training/ZDayB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdbck', 'Rapid', 'apollo017', 2067, 'nehider', 1924, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Ne7,Nc3,Nc6,Qe3,Bd6,Bd3,O-O,O-O,Be5,Qh3,d5,Qh5,d4,Nd5,g6,Qf3,f5,Bh6,Rf7,Qe2,Qh4,f4,Qxh6,fxe5,f4,Bc4,Kh8,Nxf4', 'Rxf4,Rxf4,Qxf4', 'https://lichess.org/training/zdbck');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdBJX', 'Rapid', 'mehdi13321332', 1858, 'GSP_Garry', 1788, 'e4,c5,Nf3,Nc6,Bb5,Qb6,Bxc6,Qxc6,O-O,d6,Re1,g6,h3,Bg7,c3,Nf6,d3,b5,a3,O-O,Bg5,Re8,Nbd2,a6,e5,dxe5,Nxe5,Qd5,Nef3,Bb7,Re5,Qc6,Qe2,Rad8,Rxe7', 'Rxe7,Qxe7,Re8', 'https://lichess.org/training/zdBJX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZDBkD', 'Rapid', 'Zoltan4856', 1882, 'wilce', 1885, 'e4,e5,Bc4,Nc6,c3,Bc5,Nf3,d6,a4,Bg4,b4,Bb6,a5,Bxf2+,Kxf2,f6,d3,Nge7,Be3,Ng6,Nbd2,Nh4,h3,Bh5,g4,Nxf3,Nxf3,Bf7,h4,d5,Ba2,dxe4,dxe4,Bxa2,Rxa2,O-O,h5,Qd7,Qe1,Qxg4,h6,g6,Qe2,Qxe4,Rd2,Qf5,Qc4+,Rf7,Rhd1', 'e4,Ke1,Qxf3', 'https://lichess.org/training/ZDBkD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZdD2E', 'Rapid', 'Vastas', 1662, 'paolo100', 1631, 'd4,d5,c4,dxc4,Nc3,Be6,e3,g6,d5,Bf5,Bxc4,Bg7,Qb3,b6,d6,e6,d7+,Qxd7,Bb5,c6,Bc4,b5,Be2,Bd3,Bf3,Nf6,Nge2,O-O,Nf4,Ne4,Nxe4,Bc4,Qc2,f5,Nd2,Bd5,Nxd5,cxd5,O-O,Na6,a3,Rac8,Qd3,Nc5,Qe2,Rfd8,Rd1,d4,exd4,Qxd4,Nb3,Qa4,Nxc5,Rxd1+,Qxd1,Qxd1+,Bxd1,Rxc5,Rb1,a5,Be3,Rc4,Bb3,Rc6,Kf1,a4,Ba2,Rc2,Bc1,Bd4,Bxe6+,Kf8,f3,Rf2+,Ke1,Rxg2,h4,Rh2,Bg5', 'Rh1+,Kd2,Rxb1', 'https://lichess.org/training/ZdD2E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdEVj', 'Rapid', 'plms', 2013, 'my5yodaughter', 2085, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Bg4,c3,e6,O-O,Bd6,Bg5,Nbd7,Nbd2,O-O,h3,Bh5,a3,Rc8,Qb3,Qc7,Rfe1,Rfe8,Qc2,e5,Bxf6,Nxf6,dxe5,Bxe5,Nxe5,Rxe5,Nf1,Rg5,Ng3,d4,Nxh5,Rxh5,c4,b5,b3,bxc4,Bxc4,Rd8,a4,Re5,Qd3,Rxe1+,Rxe1,a5,Re2,Qf4,Re7,Qc1+,Kh2,Qf4+,Qg3,Qxg3+,Kxg3,d3,Re1', 'd2,Rd1,Ne4+,Kf3,Nc3,Rxd2,Rxd2', 'https://lichess.org/training/zdEVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zDf1n', 'Classical', 'ak69noob', 1611, 'billiebm', 1603, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,Bb4,a3,Bxc3+,bxc3,d5,exd5,Nxd5,c4,Nf6,Bd3,Nd4,Nxe5', 'Qa5+,Qd2,Qxe5+', 'https://lichess.org/training/zDf1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdfjH', 'Rapid', 'kvs', 1654, 'I-Learky', 1898, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Nge7,c3,d5,exd5,exd5,Bb5,g6,Ne5,Bg7,Nxc6,Nxc6,d4,O-O,dxc5,a6,Be2,Qc7,Bf3,Rd8,Be3,Ne5,Bd4,Be6,Nd2,Nd3,Qc2,Ne5,Rfe1,Nxf3+,Nxf3,Bf8,b4,Bg4,Ne5,Bf5,Qb3,Bg7,h3,a5,a3,axb4,axb4', 'Rxa1,Rxa1,Bxe5', 'https://lichess.org/training/zdfjH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zDG4r', 'Rapid', 'joaopedrors10', 1695, 'NaserYusuf', 1720, 'd4,d6,c4,e6,Nc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Bg7,e3,a6,Bd3,Bd7,Qb3,b6,Nf3,Nc6,Rd1,a5,a4,Nb4,Na2,O-O,Qa3,Qe8,b3,Nxd3+,Rxd3,Ne4,Qc1,Nxg3,fxg3,e5,O-O,e4,Rc3,exf3,Rxf3,Qe7,Rd3,Rae8,Nc3,f5,Nd5,Qe4,Qd2,c6,Nxb6,Re7,Nxd7,Rxd7,h4,g4,Rf4,Qe7,Qxa5,c5,Kf2,cxd4,Qd5+,Kh8,exd4,Re8,Qxf5,Qe2+,Kg1,Rde7,Rf2,Qe1+,Rf1,Bxd4+', 'Rxd4,Qe3+,Qf2', 'https://lichess.org/training/zDG4r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdg7t', 'Rapid', 'Bossevejen12', 1689, 'PaulinaPauPau', 1711, 'Nf3,d5,d4,c5,e3,e6,c4,Nf6,Nc3,Nc6,b3,cxd4,exd4,Bb4,Bb2,Qa5,Qd3,O-O,Nd2,Re8,a3,Bd6,c5,Bc7', 'b4,Nxb4,axb4', 'https://lichess.org/training/zdg7t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZdgaG', 'Rapid', 'Toquet', 1830, 'Volodymir-Kiev', 1822, 'd4,d5,e3,Nf6,Bd3,e6,c3,Bd6,f4,Nc6,Nd2,O-O,Qe2,h6,Ngf3,Re8,Ne5,Nd7,Qg4,Nf6,Qe2,Nd7,Qh5,Rf8,O-O,Nf6,Qe2,Ne7,Rf3,Nf5,Rh3,Bxe5,fxe5,Nh7,e4,Ng5,exf5,Nxh3+,gxh3,Qg5+,Qg2,Qxg2+,Kxg2,exf5,Nf3,g5,Nxg5,hxg5,Bxg5,Kh7,Kf3,Be6,Kf4,Kg6,Rg1,Kh7,Bxf5+,Bxf5,Kxf5,a5,Be7,Rg8,Rg4,Rxg4,hxg4,Kg8,Kf6,b6,h4,Rc8,h5,c5,dxc5,bxc5,h6,d4,e6,d3,exf7+,Kh7,f8=Q,Rxf8+,Bxf8,d2,g5,d1=Q', 'g6+,Kg8,h7+,Kh8,Bg7#', 'https://lichess.org/training/ZdgaG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdgDJ', 'Classical', 'Son_of_Nile', 1658, 'NGUsahid', 1627, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,Bc4,Nf6,Nc3,c6,O-O,cxd5,exd5,b6,Bg5,Nf5,Ne4,Be7,Qd3,Nd7,Bxe7,Qxe7,Nfd2,O-O,f4,exf4,Rxf4,Ne5,Qa3,Nxc4,Nxc4,Rd8,Ng3,Nxg3,Qxg3,Ba6,Re1,Qc7,Ne3,Re8,Nf5,Rxe1+,Qxe1,Qxc2,Re4,g6', 'Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/zdgDJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zDgzV', 'Rapid', 'Prague_calling', 1789, 'Elias-Lebrun', 1996, 'e4,c5,b3,Nf6,d3,e6,Bb2,d5,exd5,exd5,Nf3,Bg4,Be2,Be7,h3,Bxf3,Bxf3,O-O,O-O,Nc6,a3,Rb8,Nd2,Re8,Re1,b5,Bg4,a5,h4,Nxg4,Qxg4,Bf6', 'Rxe8+,Qxe8,Bxf6', 'https://lichess.org/training/zDgzV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZDI8n', 'Rapid', 'Knet13', 1867, 'eliascavendish', 1824, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bg5,Bg7,Qd2,O-O,Bh6,Bxh6,Qxh6,e5,Nf3,Nc6,Nd5,Be6,Nxf6+,Qxf6,Ng5,Qh8,Nxe6,fxe6,Bc4,Nd4,O-O-O,Rxf2', 'Rxd4,exd4,Bxe6+', 'https://lichess.org/training/ZDI8n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZDIl7', 'Blitz', 'fil223', 2055, 'Aryan_MM1', 2113, 'e4,d6,Nf3,Nf6,Nc3,c6,d4,Bg4,Be2,Bxf3,gxf3,Nbd7,Be3,e5,d5,Be7,dxc6,bxc6,Qd2,O-O,O-O-O,Qc7,Rhg1,Kh8,Rg2,a5,Rdg1,Rg8,f4,Rab8,fxe5,dxe5,Bc4,Qb7,Bb3,Bc5,Bg5,Bd4,Na4,Nxe4,Qd3,Nxg5,Rxg5,Nb6,c3,Bxf2,R1g2,Nxa4', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/ZDIl7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZdjHm', 'Blitz', 'PsoyKorolenko', 2333, 'Al_BundyZG', 2235, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,d6,c4,Nf6,Nc3,a6,Be2,Be7,O-O,O-O,Be3,b6,Rc1,Bb7,f3,Nbd7,a3,Rc8,b4,Qc7,Qd2,Rfd8,Rfd1,Qb8,Bf4,Bf8,Bg3,Ne5,Na4,Nxc4,Bxc4,b5,Nb6,Qa7,Nxc8,Rxc8,Be2,e5,Bf2,exd4,Bxd4,Qa8,Rxc8,Qxc8,Rc1,Qe6,Rc7,Bc8,Qc3,Bd7,a4,h6,axb5,axb5,Rb7,d5,Qc7,dxe4,Bxf6,exf3,gxf3,Qxe2,Qxd7,Qe1+,Kg2,Qe2+,Kg3,Qe1+,Kf4,g5+,Kg4', 'Qh4+,Kf5,Qf4#', 'https://lichess.org/training/ZdjHm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdl9r', 'Blitz', 'tarzan_12', 1520, 'Aoandon', 1520, 'e4,c5,Nf3,Nc6,c3,a6,d4,cxd4,cxd4,e6,e5,d5,Nc3,Bb4,Bd2,Nge7,Be2,Bd7,O-O,O-O,Qc2,Ba5,Ng5,Ng6,h4,h6,h5,hxg5,hxg6,Nxd4,gxf7+,Rxf7,Qg6,Bxc3,Bd3,Bxd2,Qh7+,Kf8,Rad1,Ba5,Bg6,Ne2+,Kh2,Rf4', 'Qh8+,Ke7,Qxg7+,Rf7,Qxf7#', 'https://lichess.org/training/zdl9r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZDN1d', 'Rapid', 'sahin4', 1980, 'oladimeji101', 2046, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,e6,O-O,Be7,d3,O-O,Bg5,h6,Bh4,a6,a4,Nbd7,Re1,Nh7,Bg3,e5,Nd5,Nhf6,a5,Nxd5,Bxd5,Qc7,c4,Nf6,h3,Nxd5,exd5,Bf6,Ra2,Re8,Nd2,Bf5,Ne4,Bxe4,dxe4,b5,b3,Rab8,Qc2,bxc4,bxc4,Rb4,Rb1,Reb8,Rxb4,cxb4,Qb3,Qc5,Kh2,Bd8,f4,Qd4,fxe5,dxe5,Ra4,Be7,Ra2,Bc5', 'Bf2,Qxf2,Rxf2', 'https://lichess.org/training/ZDN1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zDnbj', 'Rapid', 'madhurid', 2124, 'OldMorningsDawn', 1994, 'Nf3,g6,d4,d6,Bf4,Nf6,e3,Bg7,Be2,O-O,O-O,Nbd7,c4,c5,Nc3,Re8,a3,e5,dxe5,dxe5,Bg5,h6,Bh4,g5,Bg3,e4,Nd2,Nb6,Qc2,Bf5,Nb5,h5,h3,h4,Bh2,g4,hxg4,Nxg4,Bxg4,Bxg4,Nc7,h3,Nxe8,hxg2,Kxg2,Qg5,Qxe4', 'Bf5+,Kh1,Bxe4+', 'https://lichess.org/training/zDnbj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdNHM', 'Blitz', 'angel19', 1897, 'verikt', 1889, 'd4,d5,c4,c6,Nf3,dxc4,e3,b5,a4,a6,b3,cxb3,Qxb3,Bb7,Ne5,e6,Be2,Nf6,Bf3,Bd6,axb5,axb5,Rxa8,Bxa8,Ba3,Bxe5,dxe5,Nd5,O-O,Nd7,Bd6,Ne7,Rd1,Nf5,Qc3,Nxd6,Rxd6,c5,Bxa8,Qxa8,Qd3,Qb7,Nc3,b4,Ne4,Nxe5', 'Rd8+,Ke7,Qd6#', 'https://lichess.org/training/zdNHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZDNva', 'Rapid', 'shahpatus', 1850, 'MrPrim2357', 1891, 'd4,Nf6,c4,e6,Bg5,b6,Nc3,Bb7,Nf3,Be7,e3,O-O,Bd3,d5,cxd5,Nxd5,Bxe7,Nxe7,Bc2,Nd7,Qd3,Nf6,O-O-O,Ned5,e4,Nxc3,bxc3,Bxe4,Qe3,Bxc2,Kxc2,Qe7,Ne5,Nd7,Nc6,Qa3,Kb1,a5,Rd3,Qd6,Qf3,b5,Re1,b4,cxb4,axb4,d5,Ra6', 'dxe6,fxe6,Rxd6', 'https://lichess.org/training/ZDNva');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZdoGe', 'Rapid', 'Ajay5052', 1861, 'pokimane12', 1869, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,Nc6,Nc3,Bb4,Nxc6,bxc6,Bd2,Nf6,Bd3,O-O,O-O,Qc7,Bg5,Be7,e5,Qxe5,Qd2,h6,Bf4,Qd4', 'Bh7+,Kxh7,Qxd4', 'https://lichess.org/training/ZdoGe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZdoHZ', 'Blitz', 'Messa34', 1872, 'djkzoran', 1905, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Be7,Be3,Ngf6,Nxf6+,Nxf6,Bd3,O-O,Qd2,b6,O-O-O,Bb7,Ne5,c5,h4,Qc7,Rh3,Rad8,Rg3,Rfe8,Rxg7+,Kxg7,Bh6+,Kh8,Nxf7+,Kg8', 'Qg5+,Kxf7,Qg7#', 'https://lichess.org/training/ZdoHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZDOZf', 'Rapid', 'mohammedazizi', 2033, 'ynikitin', 2107, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bf4,Bd6,e3,Bxf4,exf4,O-O,Qc2,c6,h3,b6,g4,Bb7,g5,Nh5,Ne5,g6,Be2,Ng7,h4,Nd7,h5,Nxe5,fxe5,dxc4,hxg6,hxg6,Ne4,Ne8,O-O-O,Kg7,Rh6,Rh8,Rdh1,Rxh6,Rxh6,Qxd4,Nf6,Nxf6', 'exf6+,Kg8,Rxg6+', 'https://lichess.org/training/ZDOZf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZdrZM', 'Bullet', 'MrHell', 1898, 'Tyral777', 1927, 'e4,c5,c3,e6,d4,d5,exd5,cxd4,dxe6,Bxe6,cxd4,Nf6,Nf3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,Bd6,Bg5,O-O,Ne5,h6,Nxc6,Qc7,Bxf6,gxf6,Qf3,Rac8,d5,Bxd5,Qxd5,Qxc6,Qd2,Be5,Nc3,Kh7,Rac1,Rg8,Qd3+,Rg6,g3,Rg8,Ne4,Qe6,Kh1,Bxb2,Rce1,Be5,Nc5,Qxa2,Nd7,Qa5,h4,h5,Qf5,Qd5+,Kg1,Rg7,Qxh5+,Kg8,Nxe5', 'Rxg3+,fxg3,Rxg3+,Kh2,Qg2#', 'https://lichess.org/training/ZdrZM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdSR5', 'Classical', 'nikenas', 2373, 'OLUWADUROTIMI', 2304, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nd2,Bg4,Qb3,Qc8,Ngf3,e6,Ne5,Bf5,Be2,h6,Nxc6,bxc6,Qa4,a5,Nb3,c4,Nxa5,Ra6,b4,Ne4,Rc1,g5,Be5,f6,Bg3,h5,b5,cxb5,Qxb5+,Kf7,f3,Nxg3,hxg3,Bd6,f4,h4,Nb7,Rc6,Nxd6+,Rxd6,gxh4,gxh4,a4,Qc7,a5,Rb8,Bh5+,Kg7,Qa4,Ra6,Ra1,Rxa5', 'Qxa5,Qxa5,Rxa5,Rb1+,Bd1', 'https://lichess.org/training/zdSR5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZdtAT', 'Rapid', 'Homamaboalsel', 1647, 'Sugamotogeim', 1646, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Ng5,d5,exd5,Nxd5,Qf3,Qxg5,Bxd5,e4,Qxe4+,Ne7,Bxb7,Rb8,Bd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/ZdtAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZDuJr', 'Rapid', 'EriJonni', 1940, 'Mohamad688', 1965, 'e4,c5,Bc4,e6,c3,a6,Nf3,d5,exd5,exd5,Bb3,Nf6,O-O,Be7,d4,cxd4,Nxd4,Nc6,Ba4,Bd7,Bc2,O-O,Bg5,Bd6,Nxc6,bxc6,Qd3,g6,Qd4,Be7,Re1,Kg7,Qh4,h5,Nd2,Rb8,b3,Be6,Nf3,Qa5,b4,Qb6,Nd4,c5,bxc5,Qc6,Nxe6+,fxe6,Qd4,Bxc5,Qe5,Rbe8,a4,a5,Rab1,Bd6,Qe2,Ng4,Qd3', 'Bxh2+,Kh1,Nxf2+,Kxh2,Nxd3', 'https://lichess.org/training/ZDuJr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zDUqS', 'Rapid', 'ayrion78100', 1645, 'Sgas1', 1617, 'e4,e5,Nf3,Nc6,Bc4,h6,c3,a6,d4,exd4,cxd4,d6,d5,Ne5,Nxe5,dxe5,Qf3,Nf6,O-O,Bg4,Qg3,Qd6,f4,exf4,Qd3,f3,gxf3,Bh3,Rf2,Nh5,f4,Bd7,e5,Qg6+,Qxg6,fxg6,Be3,b6,e6,Bb5,Bxb5+,axb5,Nc3,b4,Nb5,O-O-O,Rd2,Bd6,Na7+,Kb7,Nc6,Rde8,Rf2,Rhf8,Raf1,Rf5,Ne5,Bxe5,fxe5,Rxe5,d6,cxd6,Rf7+,Ka6,Bd4,R5xe6,Bxg7,Nxg7,Rxg7,h5,a3,bxa3,bxa3,Rc8,a4,Rc4,Ra1,d5,Rg8,Ka7,a5,b5,Rg7+,Ka6,Rg8,Rc7,Ra8+,Ra7,Rd8,Re5,Rd6+,Kb7,Rxg6,d4,Rb6+,Kc7,Rc1+,Kd7,a6,Re8,Rh6,Re5,Rh7+,Re7,Rxh5,Rxa6,Rxb5,Rg6+,Kf2,Rf7+,Ke2,Re6+,Kd3,Rd6', 'Rb7+,Ke6,Re1+,Kd5,Rxf7', 'https://lichess.org/training/zDUqS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zduXe', 'Rapid', 'itsmeant2b', 2311, 'Tizi007lol', 2215, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,Bb4,O-O,Nge7,Nb5,O-O,a3,Bc5,b4,Bb6,Bg5,f6,Bf4,d5,exd5,exd5,Bb3,Be6,Re1,Bf7,Nd6,Ng6,Nxf7,Rxf7,Be3,Rd7,Bxb6,axb6,Nd4,Rd6,Nf5,Rd7,f4,Nxf4,g3,Ng6,Nd4,Nxd4,Qxd4,Ne5,Kg2,Qe8,Qxb6,Qh5,Bd1,Qg5,Qe6+,Kh8,Ra2,Rad8,Rf2,Nd3', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/zduXe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZDV3w', 'Blitz', 'azamat_0090', 1812, 'Yuliya2007', 1503, 'd4,d5,c4,dxc4,e4,Nf6,Nc3,Bg4,Be2,Bxe2,Qxe2,e6,Qxc4,Nc6,Be3,Bb4,Qd3,a6,Nf3,h6,O-O,O-O,a3,Bxc3,bxc3,Ng4,h3,Nxe3,Qxe3,Qf6,e5,Qg6,Qe2,Qf5,Nh4,Qg5,Nf3,Qh5,Qe4,Qf5,Qxf5,exf5,Rad1,Na5,Rfe1,Nc4,d5,Rfe8,Nd4,Nxe5,Nxf5,Nc4,a4,Kh7,Kh2,Nb2,Rxe8,Rxe8,Rb1,Nxa4,Rxb7,Nxc3,Rxc7,Nxd5,Rxf7,Rg8,Ra7,Kg6,Ng3,Nb4,Ne4,Rf8,Kg3,Kh7,h4,Rc8,h5,Rc1', 'Nf6+,Kh8,Ra8+,Rc8,Rxc8#', 'https://lichess.org/training/ZDV3w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZdvCR', 'Rapid', 'thecrazyman', 1781, 'Imsop', 1774, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bb5+,c6,Ba4,O-O,Qd2,Re8,f3,Bd7,O-O,Qe7,Bg5,Na6,Rad1,Nc5,Bb3,Rad8,Rfe1,Ne6,Nde2,Bc8,Bh4,h6,Bf2,Kh7,Be3,c5,Nd5,Nxd5,Bxd5,b5,c3,a5,Bc6,Bd7,Bd5,b4,c4,a4,b3,a3,Nf4,Nxf4,Bxf4,g5,Bg3,Be5,Qf2,Bxg3,Qxg3,f6,Bb7,Be6,Bd5,Qf7,Bxe6,Qxe6,Rd5,Rd7,Red1,Red8,Kf2,Kg6,Ke3,h5,h4,g4,Rf5,Re7,Rdd5,Rh8,Rxd6,Qxf5,fxg4,Qxe4+,Kf2,Qe2+,Kg1,Qxg4,Qf2,Rhe8', 'Qxf6+,Kh7,Qh6+,Kg8,Rg6+,Qxg6,Qxg6+', 'https://lichess.org/training/ZdvCR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdVFp', 'Blitz', 'FM Supercampeon64', 2412, 'Kojomberdiev', 2319, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Qf6,O-O,Nge7,d3,h6,Be3,Bb6,d4,O-O,Na3,a6,Ba4,d6,h3,Ba7,Bb3,g5,dxe5,dxe5,Nh2,Ng6,Qh5,Nf4,Bxf4,exf4,Nc4,b5,e5,Qg7,Nd2,Nxe5,Rae1,Ng6,Ne4,Bf5,Ng4,Bxg4,hxg4,Rae8,Qh3,Re5,Nd2,Rfe8,Rxe5,Nxe5,Re1,Rd8,Ne4,f3,gxf3,Rd3,Bd1,Ng6,Ng3,Nf4,Qf1,Qf6,Nh5,Qd6', 'Re8+,Kh7,Bc2', 'https://lichess.org/training/zdVFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZdW3q', 'Rapid', 'lobnik', 1665, 'Sjaakklapperkaak', 1848, 'e4,e5,Bc4,Nc6,d3,Bc5,a3,a5,h3,Nf6,Nf3,O-O,Nc3,d6,O-O,Nd4,Be3,Nxf3+,Qxf3,Bxe3,fxe3,Be6,Qg3,Bxc4,dxc4,Nd7,Rf5,a4,Raf1,c6,Qg4,Ra5,Qe2,f6,R5f3,Qe8,Rg3,Qe6,Qh5,Nb6,Rff3,Nxc4,Qh6,Rf7,Rf5,Kh8,Qh4,Nxb2,Nd1,Nxd1,Rh5,h6', 'Rxh6+,gxh6,Qxh6+,Rh7,Qf8+,Qg8,Rxg8#', 'https://lichess.org/training/ZdW3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdYH7', 'Rapid', 'couillu', 1678, 'Lit_Pepito', 1602, 'e4,e6,Qf3,d5,exd5,exd5,d3,Nf6,Be2,Nc6,c3,Bd6,Bg5,Ne5,Qe3,O-O,Bxf6,Qxf6,Nf3,Re8,Nxe5,Rxe5,Qd2,Bg4,f3,Bh5,d4,Re7,O-O,Rae8,Re1,Qh4,g3,Qf6,Na3,Bxf3,Bxf3,Qxf3,Rxe7,Rxe7,Nb5,Bxg3,hxg3,Qxg3+,Qg2,Qe3+,Qf2,Qg5+,Kf1,a6,Na3,h6,Re1,Rxe1+,Kxe1', 'Qc1+,Ke2,Qxb2+', 'https://lichess.org/training/zdYH7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zDYrg', 'Classical', 'jonf707', 1848, 'Am23', 1809, 'e4,c5,c3,Nf6,e5,Ng8,d4,d6,Nf3,Bg4,Bf4,Nc6,Bb5,Bd7,exd6,cxd4,Bxc6,Bxc6,cxd4,exd6,O-O,Be7,d5,Bb5,Re1,Nf6,Nc3,Ba6,Rc1,O-O,Nd4,Re8,Nf5,Bf8,Qd2,g6,Bg5,gxf5', 'Rxe8,Qxe8,Bxf6', 'https://lichess.org/training/zDYrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zdZ6s', 'Rapid', 'MSSAAD', 1808, 'EmirDuhan', 1780, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f4,e5,fxe5,dxe5,Nf3,Qxd1+,Kxd1,Nc6,Bg5,Be7,Kd2,O-O,Re1,Bg4,Be2,h6,Bh4,Rad8+,Kc1,b5,Rd1,Bxf3,Bxf3,Nd4,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/zdZ6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zE0bA', 'Rapid', 'mahen', 1994, 'Viktorlv', 1719, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Be3,O-O,Be2,Be6,Qd2,c5,Nb3,Nc6,O-O,a6,Rfd1,b5,Bf3,Ne5,Qe2,b4,Nd5,Bxd5,exd5,Nfd7,g3,Bf6,Bg2,Ng6,Rab1,Re8,Qd2,Nge5,Qc1,Nc4,Bf4,Nde5,Nd2,Nxd2,Bxd2,Nc4,Bf4,Be5,Bf1,Bxf4,Qxf4,Ne5,Bg2,f6,b3,Qa5,a4,bxa3,Ra1,Qb4,Qd2,a5,f4,Ng6,Bf1,Re4,Bc4,Rae8,c3,Qb6,Rxa3,Ne7,Bd3', 'c4+,Qf2,Qxf2+,Kxf2,cxd3', 'https://lichess.org/training/zE0bA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zE2r4', 'Rapid', 'Tanidual', 1808, 'Alibej01', 1926, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nf3,Be7,Nc3,Nf6,Bd3,O-O,O-O,d5,e5,Nd7,Qc2,f5,exf6,Nxf6,a3,a6,Bg5,h6,Bh4,b5,Rfe1,b4,Ne2,Rb8,Qxc6,Rb6,Qc2,bxa3,bxa3,Bb7,Ne5,Ne4,Bxe7,Qxe7,Rf1,Rf6,Rab1,Rxb1,Bxe4', 'Rxf1+,Kxf1,dxe4', 'https://lichess.org/training/zE2r4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zE2WC', 'Rapid', 'joran2693', 2437, 'CivEn', 2381, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Ne7,b3,Nc6,Qd2,Be7,Bb2,Bf6,O-O-O,a5,a4,Nb4,Nd5,Nxd5,exd5,O-O,Bd3,Bd7,Qf4', 'Bg5,Qd2,Bxd2+', 'https://lichess.org/training/zE2WC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZE30h', 'Blitz', 'GM Ranaroek66', 2541, 'CM LEV2310', 2523, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,O-O,d6,c3,a6,Bb3,Ba7,Nbd2,h6,Re1,g5,Nc4,g4,Nfd2,h5,Nf1,h4,Be3,Bd7,d4,Qe7,dxe5,dxe5,Bxa7,Nxa7,Nfe3,O-O-O,Nd5,Nxd5,exd5,g3,Rxe5,Qf6,Qd4,Nb5,Qe3,Rdg8,fxg3,hxg3,h3,Rh4,Rf1,Qh8,d6', 'Rxh3,gxh3,Qxh3', 'https://lichess.org/training/ZE30h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zE41o', 'Rapid', 'aderbalco', 1619, 'HLChess2020', 1836, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,c3,d6,Bg5,h6,Bh4,O-O,Nbd2,Na5,Bd5,c6,Bb3,Nxb3,Nxb3,Bb6,h3,Be6,Nbd2,a5,Qa4,Bd7,O-O-O,Bc7,Qc2,d5,g4,dxe4,dxe4,b5,Nb3,a4,Nc5,Be6,Rxd8,Raxd8,Nxe6,fxe6,g5,hxg5,Bxg5,a3,b3,Bd6,Nh4,Rf7,Ng6,Kh7,Nh4,g6,Qe2,Rg8,Nf3,Rgg7,h4,Kg8,Bh6,Rh7,Bg5,Nh5,Qd2,Rxf3,Qxd6,Rg7,Qxe6+,Kh7,Qxc6,Rxf2,Qc5,Rxa2,Kd1,Rd7+,Ke1,Ra1+,Kf2,Rf7+,Kg2,Ra2+,Kh3', 'Rf3+,Kg4,Rg3#', 'https://lichess.org/training/zE41o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zE4n4', 'Blitz', 'Ladesz', 1570, 'Sorbon123', 1581, 'd4,d5,c4,Nc6,Nf3,dxc4,e4,Bg4,Bxc4,Bxf3,Qxf3,Nxd4,Qc3,e6,Be3,Bc5,O-O,Nf6,Rd1,e5,f4,O-O,fxe5,Nxe4,Qe1,Qe7,Bxd4,Bxd4+,Rxd4,Nc5,Nc3,Rad8,Rad1,Kh8,Rxd8,Rxd8,Rxd8+,Qxd8,Bxf7,g6,e6,Qd4+,Kh1,Nd3,Qe2,Nf2+,Kg1', 'Nh3+,Kf1,Qg1#', 'https://lichess.org/training/zE4n4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZE5dY', 'Classical', 'iqfranta', 1674, 'marcosdelbosque', 1717, 'e4,e5,Bc4,Nf6,d4,d5,exd5,Nxd5,Nc3,Nb4,Bxf7+,Kxf7,Qh5+,Kg8,Qd1,exd4,Ne4,d3,c3,Nc2+,Kf1,Nxa1,Bg5,Qd5,Qf3,Qxa2,Qxd3,Bf5,Nf6+,gxf6,Qxf5,fxg5,Qxg5+,Bg7,Qd8+,Kf7,Qxc7+,Kg6,Qg3+,Kf7,Nf3,Qb1+,Ke2,Qxh1,Qf4+,Kg6,Nh4+,Kh5,Qf5+,Kxh4', 'g3#', 'https://lichess.org/training/ZE5dY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZE6mp', 'Rapid', 'sguler', 1671, 'tapos', 1632, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,c4,Bb4+,Bd2,Bxd2+,Qxd2,Ne7,Ne5,O-O,Be2,Nd7,Nxd7,Bxd7,cxd5,Nxd5,Nc3,Nxc3,bxc3,Re8,O-O,Rc8,Bc4,Be6,Bxe6,Rxe6,Rfe1,Qd7,Rxe6,Qxe6,d5,Qe5,Re1,Qd6,c4,c6,Qa5,cxd5,cxd5,Rd8,h3,h6,Rd1,a6,Qa4,b5,Qb3,Rc8,a3,Rc5,a4,bxa4,Qxa4,Rxd5', 'Qe8+,Kh7,Qe4+', 'https://lichess.org/training/ZE6mp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zE81L', 'Rapid', 'Alexis35', 2129, 'B25270', 1682, 'd4,g6,Nf3,Bg7,c4,c6,g3,Nf6,Bg2,O-O,O-O,d5,Nbd2,e6,e4,dxe4,Ng5,h6,Ngxe4,Nxe4,Nxe4,f5,Nc5,Bxd4,Bxh6,Re8,Nd3,e5,Qc2,Nd7,Rad1,c5,b4,b6,Bxa8,Nf6,Bg5,Kg7,bxc5,bxc5,Nxc5,Ba6,Bd5,Qd6,Nb3,Nxd5,Rxd4,exd4,cxd5,Bxf1,Kxf1,Qxd5,Qc7+,Kg8,Be7,Qh1+,Ke2,Qe4+,Kd2,Rxe7,Qd8+,Kf7,Nxd4,Qb7,Qd6,Rd7,Qe6+,Kf8,Qf6+,Rf7,Ne6+,Ke8', 'Qd8#', 'https://lichess.org/training/zE81L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZE82Y', 'Rapid', 'Gio1212', 1912, 'erivaldo', 1892, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,d6,c4,c6,Nc3,O-O,Bd3,Qa5,O-O,Bg4,h3,Bxf3,Qxf3,e5,dxe5,dxe5,Bg5', 'e4,Nxe4,Nxe4,Bxe4,Qxg5', 'https://lichess.org/training/ZE82Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zE8OG', 'Rapid', 'bata1952', 1988, 'NaturalPunishment', 1736, 'e4,c5,g3,Nc6,Bg2,Nf6,d3,d5,Nc3,d4,Nce2,e5,f4,Bd6,Nf3,O-O,O-O,h6,fxe5,Nxe5,Nxe5,Bxe5,Nf4,g5,Nh5,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/zE8OG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ze8yU', 'Blitz', 'saeedjam', 1654, 'milovance53', 1891, 'd4,d5,e4,c6,e5,Bf5,Bd3,Qd7,Bxf5,Qxf5,Nf3,h6,O-O,e6,Be3,Bb4,a3,Ba5,Qe2,Ne7,c4,Bb6,c5,Bd8,Nh4,Qe4,Nf3,O-O,Nbd2,Qf5,b4,f6,b5,fxe5,Nxe5,Bc7,Nef3,e5,dxe5,Bxe5,Rab1,Nd7,bxc6,bxc6,Rb7,Rfd8,Nxe5,Qxe5,f4,Qe6,Qf3,Nf6,f5,Nxf5,Qxf5,Qxe3+,Kh1,Rf8,Qg6,Ne8', 'Rxf8+,Kxf8,Qf7#', 'https://lichess.org/training/ze8yU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZebIz', 'Rapid', 'diegozalazar', 2168, 'Danielperezs', 1950, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,Nbd7,Qc2,h6,Bh4,a6,b3,dxc4,bxc4,b6,Bd3,Bb7,e4,c5,dxc5,Nxc5,Rd1,Nxd3+,Rxd3,Qc7,Bxf6,Bxf6,O-O,Rfd8,Rxd8+,Rxd8,Ne2,Qc5,Ng3,b5,Rb1,Ba8,e5,Bxe5,Nxe5,Qxe5,cxb5,axb5,Nf1,Qd5,Ne3,Qd2,Qxd2,Rxd2,Rxb5,Rxa2,h3,Be4,Rb8+,Kh7,Rf8,Kg6,Ng4,f6,Ne3,Ra1+,Kh2,Ra2,Kg3,h5,h4,Ra3,Re8,Bd5,Kh2,Ra2,Kg3,Ra3,Rh8,e5,Kh2,Be4,Nc4,Ra2,Nd6,Bd5,Kg3,Ra3+,f3,Rd3,Nc8,Be6,Ne7+,Kf7,Nc6,Kg6,Nb4,Rb3,Nc2,f5,Re8,f4+,Kh2,Kf7,Rd8,Rb2,Ne1,Kf6,Nd3,Rb3,Nc5,Rb5,Ne4+,Kf5', 'Nd6+,Kf6,Nxb5', 'https://lichess.org/training/ZebIz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZEBst', 'Classical', 'Bormatyxa', 2061, 'tawandamatema', 1871, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,Be2,e6,O-O,Bd6,h3,h5,hxg4,hxg4,Ng5,Bh2+,Kh1,Bf4+,Nh3,gxh3,Bxf4,Qf5,Bg3,hxg2+,Kxg2,Qh3+,Kf3,Nc6,Rh1,Qf5+,Kg2,Rxh1,Kxh1,O-O-O,Bd3,Qh3+,Kg1,Nxd4,Bf1,Qf5,Bg2,Nxc2', 'Bxb7+,Kxb7,Qxd8', 'https://lichess.org/training/ZEBst');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZECIO', 'Rapid', 'x0404', 2000, 'Bakyt', 1859, 'e4,e6,c4,b6,d4,Bb7,Nc3,Nf6,e5,Ne4,Nxe4,Bxe4,Nf3,Bb4+,Nd2,d5,f3,Bf5,Be2,dxc4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/ZECIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zEd5J', 'Rapid', 'leakan', 1786, 'female_supremacy', 1796, 'd4,c5,Nf3,e6,e4,cxd4,Nxd4,Nc6,Nc3,g6,Bf4,Bg7,Nxc6,bxc6,Bd6,Ne7,e5,O-O,Bd3,Re8,O-O,Nf5,Bxf5,exf5,Re1,a5,Na4,f6,f4,Re6,Nc5,Re8,Kh1,Qb6,Qd4,Qb4,Qxb4,axb4,Nd3,b3,axb3,Rxa1,Rxa1,fxe5,fxe5,h6,c4,Bf8,c5,Bxd6,cxd6,Kf7,Ra8,Bb7,Rxe8,Kxe8,Kg1,Kf7,Nc5,Bc8,Kf2,g5,g3,h5,b4,Kg6,Kf3,h4,g4,f4,h3,Kf7,Ke4,Kg6,b3,Kg7,Kf5,Kh6,Ne4,Bb7,Nxg5,f3,Nxf3,c5,g5+,Kg7,Nxh4,cxb4,Ng6,Bd5,h4', 'Be6+,Ke4,Kxg6', 'https://lichess.org/training/zEd5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zEDTO', 'Blitz', 'NM Thunder-In-Paradise', 2628, 'alexandar71', 2662, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,b6,e4,c5,e5,Ng8,Qe4,cxd4,a3,Bxc3+,bxc3,Nc6,cxd4,Bb7,Qg4,Nge7,Nf3,Ng6,Bd3,Na5,h4,h5,Qg3,Ne7,Qxg7,Rg8,Qh7,Bxf3,gxf3,Nb3,Rb1,Nxd4,Be3,Nxf3+,Ke2,Nxe5,Rhg1,Rf8,Bh6,Nxd3,Qxd3,Nf5,Bxf8,Kxf8,Qc3,Ke7,Rg5,Qc7,Re1,Qf4,Qb4+,d6,c5,Nd4+,Kd3,dxc5,Rxc5,bxc5,Qxc5+,Ke8,Re4,Qf3+,Re3,Qf5+,Kxd4,Rd8+,Kc4,Qf4+,Kb5,Rb8+,Kc6,Qxf2', 'Rxe6+,fxe6,Qxf2', 'https://lichess.org/training/zEDTO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zEfQ2', 'Classical', 'krisb', 1867, 'Omegain', 1820, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,cxb2,Bxb2,d6,Qc2,Nf6,O-O,Qe7,Nc3,Nb4,Qa4+,Nc6,Nd4,Bd7,Nf5,Bxf5,exf5,Kd7,Rfe1,Qf7,Rad1,Rhe8,Ne2,Re4,Nd4,Rxe1+,Rxe1,Nd5,Qb5,a6', 'Qxb7,Nxd4,Qxa8', 'https://lichess.org/training/zEfQ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zegER', 'Blitz', 'Sciencemelon69', 2011, 'zivko1956', 1952, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Nf6,Nc3,Bb4,Qd3,Nc6,Nc2,Be7,Be2,Qc7,Be3,O-O,f4,d6,O-O,b6,Rad1,Bb7,b3,Rfd8,Na4,Nd7,Bf2,b5,cxb5,axb5,Qxb5,Ba6,Qh5,g6,Qf3,Bb7,Ne3,Nb4,a3,Na6,Rc1,Qb8,Ng4,Nac5,Nxc5,Nxc5,a4,Bxe4,Qc3,Qxb3', 'Nh6+,Kf8,Qh8#', 'https://lichess.org/training/zegER');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZEgN0', 'Rapid', 'cosmicboss101', 1792, 'reddragon2010', 1864, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,cxd5,cxd5,Bf4,Bb4,e3,Ne4,Rc1,Nc6,Bd3,Qa5,Qb3,Bxc3+,bxc3,Qb6,O-O,Qxb3,axb3,f5,Ne5,Nd2,Rfd1,Nxb3,Rb1,Nba5,Nxc6,Nxc6,Bb5,Bd7,Bxc6,Bxc6,Rdc1,a5,c4,O-O-O,cxd5,Rxd5', 'Rxc6+,bxc6,Rb8+,Kd7,Rxh8', 'https://lichess.org/training/ZEgN0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zEHu8', 'Rapid', 'amine92', 1932, 'SipahiPower', 2026, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Bc5,Nb3,Bb6,Nc3,Nc6,Bg5,h6,Bh4,e5,Nd5,g5,Qf3,Nxd5,exd5,gxh4,dxc6,dxc6,Bc4,Qe7,O-O,h3,Rfe1,Rg8,Rxe5,Rxg2+,Kh1,Qxe5', 'Qxf7+,Kd8,Rd1+,Bd4,Rxd4+', 'https://lichess.org/training/zEHu8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZEkdt', 'Rapid', 'dhodoy10', 1563, 'grzwrz', 1618, 'e4,c5,c3,e6,d4,cxd4,cxd4,Nc6,Nf3,Nf6,Nc3,d5,e5,Bb4,Bb5,Ne4,Qd3,Qa5,Bxc6+,bxc6,O-O,Nxc3,bxc3,Bxc3,Bd2,Bxd2,Nxd2,Ba6,Qc2,O-O,Rfb1,Rfc8,Nf3,g6,Qc1,c5', 'Qh6,Qd8,Ng5,Qxg5,Qxg5', 'https://lichess.org/training/ZEkdt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZEkE3', 'Rapid', 'jtobin', 1651, 'nadermb', 1640, 'e4,e5,Bc4,c5,Nf3,d6,d3,Bg4,Nc3,h6,O-O,Nf6,Re1,Nc6,Bb5,Be7,Nd5,O-O,h3,Bh5,Nxe7+,Qxe7,Bxc6,bxc6,c4,Qe6,b3,a6,Bb2,Ra7,g4,Nxg4,Nh2,Nf6,Ng4,Nxg4,f3,Nf6,Kf2,Qxh3,Rg1,Qh2+,Rg2,Qh4+,Rg3,Qf4,Bc1,Qh4,Bxh6,Bg6,Bg5,Qh2+,Rg2,Qh3,Qe2,Nh5,Qf1,f6,Be3,Qh4+,Ke2,Nf4+,Bxf4,exf4,Rxg6,Kf7,Rg4,Qh5,Qg2,Qh6', 'Rh1,Qxh1,Qxh1', 'https://lichess.org/training/ZEkE3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zEKuX', 'Rapid', 'ChessladderLB', 2044, 'Eliteplayer4', 2134, 'd4,e6,c4,f5,g3,Nf6,Bg2,Bb4+,Nd2,O-O,a3,Bxd2+,Bxd2,d6,Nf3,Qe8,O-O,e5,e3,Nc6,Qc2,Qh5,b4,f4,dxe5,dxe5,exf4,Bh3,Ng5,Bxg2,Kxg2,Nd4,Qd1,Qg6,fxe5,Nh5,Qg4,Rad8,Be3,Nf5,Qe2,Qc6+,Kg1,g6,g4,Nxe3,Qxe3,Nf4,Qe4', 'Nh3+,Kg2,Nxg5,Qxc6,bxc6', 'https://lichess.org/training/zEKuX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZEMec', 'Rapid', 'panco', 2018, 'rdursun', 2026, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,Nbd7,Bg5,Be7,e3,O-O,Bd3,dxc4,Bxc4,a6,a3,b5,Bd3,c5,dxc5,Nxc5,Bc2,Bb7,Qe2,Rc8,Rd1,Qc7,O-O,Nce4,Bxe4,Nxe4,Nxe4,Bxe4,Bxe7,Qxe7,Rd2,Rfd8,Rfd1,Rxd2,Rxd2,Qb7,Ne1,h6,f3,Bd5,Kf2,Qe7,g3,Rc1,Rd1,Qc5', 'Nd3,Rxd1,Nxc5', 'https://lichess.org/training/ZEMec');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zempa', 'Blitz', 'Farag2020', 1593, 'Marx2017', 1595, 'd4,Nf6,Nc3,e6,e4,Be7,e5,Nd5,Bd2,d6,Nf3,O-O,Be2,Nc6,O-O,dxe5,dxe5,f6,exf6,Bxf6,Nxd5,exd5,c3,Ne7,Nd4,c6,Bg4,Qb6,Bxc8,Raxc8,b3,Bxd4,cxd4,Qxd4,Re1,Qxf2+,Kh1,Ng6,Be3,Qf6,Bd4,Qd6,Bxa7,c5,Qd2,Ra8,Qa5,Rac8,Rec1,Qf6,Bxc5,Rf7,Bb4', 'Rxc1+,Rxc1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/Zempa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZenY4', 'Blitz', 'Eddy567', 2025, 'Desxifrat', 2035, 'c4,Nf6,Nc3,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,g3,Bg7,Bg2,O-O,O-O,Nxd4,Qxd4,d6,e4,Ng4,Qd3,Ne5,Qe2,Qc7,Nd5,Qxc4,Qxc4,Nxc4,Nxe7+,Kh8,Nxc8,Raxc8,Rb1,h6,b3,Nb6,Be3,g5,Rbc1,Rc6,Rxc6,bxc6,e5,Bxe5,Bxc6,f5,f4,gxf4,Bxf4,Bd4+,Kg2,d5,Bc7,Rc8,Bxb6,Bxb6,Bxd5,Rc2+,Kh3,Rxa2,Rxf5,Kg7,g4,Bg1,Bg2,Rb2,Rf3,a5,Kg3,Bc5,h4,Ra2,Kh3,a4,bxa4,Rxa4,Rc3,Bf2,Bf1,Ra7,Bd3,Be1,Rc6,Bd2,Rg6+,Kf7,g5,hxg5,h5,Ra3,Rd6,Bf4,Kg4,Kg7,Rd7+,Kh8,h6,Ra8,h7,Rb8,Bf5,Rf8,Be4,Rb8,Kh5,Rf8,Kg6,g4,Bd5,g3,Rg7,g2', 'Rg8+,Rxg8+,hxg8=Q#', 'https://lichess.org/training/ZenY4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zeozv', 'Rapid', 'teksviler', 1976, 'papachacha', 2437, 'e4,d6,Bc4,Nf6,d3,e5,h3,Be7,f4,O-O,Nf3,c6,O-O,a5,a3,b5,fxe5,dxe5,Ba2,Na6,Nxe5', 'Qd4+,Kh1,Qxe5', 'https://lichess.org/training/zeozv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZEpxM', 'Rapid', 'sergant76', 1720, 'bodo_mullido', 1617, 'e4,d5,exd5,Qxd5,c4,Qa5,a3,c6,Nc3,Nf6,b4,Qc7,d4,Bg4,Be2,Bf5,Nf3,Nbd7,O-O,e6,Bg5,h6,Bh4,g5,Bg3,Bd6,h3,Bxg3,fxg3,Qxg3,Bd3,g4,Bxf5,exf5,Qe2+,Kd8,Ne5,Rh7,Rxf5,gxh3,Nxd7,Nxd7,Ne4,Qg6,Rf4,Rg7,g3,f5,Raf1,Kc7,Rxf5,Re8,Qf3', 'Rxe4,Qxe4,Qxg3+', 'https://lichess.org/training/ZEpxM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZEQ1e', 'Blitz', 'Anotherchessnoob', 1778, 'lostchild41', 2031, 'e4,c5,d3,e6,Nf3,d5,Nc3,d4,Ne2,Nc6,g3,Nf6,Bg2,h5,Bg5,Be7,Qd2,Bd7,a3,Qc7,O-O-O,O-O-O,Kb1,Ne8,Bxe7,Nxe7,Nf4,e5,Nd5,Nxd5,exd5,f6,Nh4,Kb8,f4,Nd6,fxe5,fxe5,Ng6,Rhe8,Qg5,c4,Nxe5,c3,Nxd7+,Rxd7,b3,Rc8,Bh3,Qa5,a4,b5,Bxd7,bxa4,Bxa4,Ka8,Qe7,Nb7,Qa3,Qb6,Rhe1,Nc5,Re7,Rb8,Qxc5,Qxc5,Rde1,Qa3', 'Bc6+,Rb7,Re8#', 'https://lichess.org/training/ZEQ1e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZER2j', 'Blitz', 'Aleksandr2006', 1903, 'OlegChessKiller', 1914, 'c4,c5,Nc3,Nf6,g3,e6,Bg2,Be7,e3,O-O,Nge2,Nc6,O-O,d6,d4,cxd4,exd4,d5,cxd5,Nxd5,Nxd5,exd5,Nc3,Be6,a3,Bf6,Be3,Qb6,Nxd5,Bxd5,Bxd5,Bxd4,Bxd4,Nxd4,b4,Rad8,Bg2,Qb5,Qg4,h5,Qe4,Rfe8,Qxb7,Qg5,h4,Qg4,Qxa7,Ne2+,Kh2,Rd3,Rfe1,Rxg3,fxg3', 'Qxg3+,Kh1,Qxh4+,Bh3,Qxh3#', 'https://lichess.org/training/ZER2j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zERIc', 'Rapid', 'rbsncj', 1787, 'Luzblanca', 1934, 'd4,Nf6,c4,b6,Nc3,Bb7,Qc2,e6,e4,Bb4,Bd3,d6,Ne2,Nbd7,Bd2,Bxc3,Nxc3,O-O,O-O-O,e5,d5,Nc5,f3,a6,g4,b5,cxb5,axb5,Bxb5,Nfd7,g5,Nb6,h4,Ra5,h5,Qa8,g6,fxg6,hxg6,h6,Bxh6,Rxb5,Nxb5,Qxa2,Nc3', 'Nb3+,Qxb3,Qxb3', 'https://lichess.org/training/zERIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zeRUn', 'Rapid', 'eagle727', 1638, 'Asit_kumar', 1668, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,Bg5,Qe7+,Be2,h6,Bh4,Bg4,O-O,Nc6,Re1,O-O-O,h3,Bh5,a4,g5,Nxg5,Bxe2,Rxe2,Qd7,Ne4,Nxe4,Bxd8,Nxf2,Rxf2,Kxd8,Nc3,Rg8,Kh1,Bg7,Qd2,Bd4,Rf3,Ne5,Rf4,c5,Raf1,Rg3,Ne4,Be3,Qe1', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/zeRUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZeSgK', 'Rapid', 'diviza', 2133, 'ATG1', 1919, 'd4,d5,c4,e6,Nf3,Nf6,g3,Be7,Bg2,c6,O-O,O-O,Nc3,Nbd7,b3,a5,Ne5,h6,Bb2,Nb6,e4,dxe4,Nxe4,Nxe4,Bxe4,Nd7,Bg2,Nf6,f4,Rb8,Qd3,Qc7,Rad1,Bd7,Kh1,Rfd8,Qf3,Be8,f5,exf5,Qxf5,Bd7,Qf3,Be6,h3,Qc8,Kh2,Ra8,a3,a4,b4,Qc7,Rde1,Bd6,Rc1,Rf8,Rc2,Bxe5,dxe5,Nd7,Qe3,Nb6,Rf4,Rad8,Qe2,Rd7,Bd4,Rfd8,Bc5,Nc8,Rf1,Rd3,Bd6,Nxd6,Qxd3,Nxc4,Qc3,Nxe5,Be4,Nc4,Rcf2,Qd7,Bg2,Qe7,Re1,Qg5', 'Rxe6,fxe6,Qxc4', 'https://lichess.org/training/ZeSgK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZEt5X', 'Rapid', 'Chinguis', 1606, 'limlchess', 1619, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nc6,g3,Bg4,Bg2,O-O-O,O-O,Qe6,Re1,Qf5,d3,Bxf3,Bxf3,Nd4', 'Bg4,Qxg4,Qxg4+', 'https://lichess.org/training/ZEt5X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZeteG', 'Rapid', 'bengibs', 1815, 'Dmmanzharov', 1697, 'e4,e5,Nf3,Nc6,Bb5,f5,d4,fxe4,Nxe5,Nxe5,dxe5,Qe7,O-O,Qxe5,Nc3,Nf6,Be3,c6,Bd4,Qf5,Bc4,d5,Bb3,Bd6,f3,exf3,Rxf3,Qh5,Re3+,Kd8', 'Bxf6+,gxf6,Qxh5', 'https://lichess.org/training/ZeteG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZEUu2', 'Blitz', 'anon4', 1588, 'monkata', 1735, 'e4,c5,c3,e6,d4,Qb6,Ne2,cxd4,cxd4,Bc5,Nbc3,Bb4,Bd2,Ne7,a3,Bxc3,bxc3,O-O,Rb1,Qc7,Ng3,d6,Bd3,Ng6,O-O,Qe7,Qc2,Bd7,e5,dxe5,Rxb7,exd4,cxd4,Nc6,Be4,Qd6,Bb4,Nxb4,axb4,Rab8,Rxa7,Rxb4,Qc3,Rxd4,Nh5,Rc8,Qa1,Rxe4', 'Qxg7#', 'https://lichess.org/training/ZEUu2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zEuvt', 'Rapid', 'KGjaba', 1804, 'AJ1958', 1782, 'e4,e5,f4,d6,Nf3,f6,Nc3,c6,fxe5,dxe5,Bc4,a5,O-O,Ne7,d4,b5,Be2,Qb6,Be3,Qc7,dxe5,fxe5,Bc5,Na6,Be3,Be6,Ng5,Bd7,Bg4,O-O-O,Qe2,Bxg4,Qxg4+,Rd7,Rad1,h6,Ne6,Qb7,Nc5,Nxc5,Bxc5,Kd8,Rxd7+,Qxd7,Rd1,Nd5,Qxd7+,Kxd7,exd5,Bxc5+,Kh1,Kc7,a3,Re8,dxc6,Kxc6,Ne4,Bb6,Rd6+,Kb7,Rd7+,Kc6,Rxg7,Rf8,Rg6+,Kd5,Nc3+,Kc4,h3,Bd4,Rc6+,Bc5,Ne4,Kd5,Rxc5+,Kxe4,Rxb5,Re8,Rxa5,Ke3,Kg1,Ke2,c4,e4,c5,e3,c6,Kd2,c7', 'e2,Rd5+,Ke3', 'https://lichess.org/training/zEuvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zEuyh', 'Rapid', 'IaccaDance', 1801, 'stamatn', 1806, 'd4,d6,c4,Nc6,Nf3,Bg4,e4,Nf6,Be2,Nxe4,Qa4,Qd7,c5,dxc5,d5,Qxd5,Bc4,Qf5,Nbd2,Nxd2,Nxd2,Qe5+,Kf1,a6,Qb3,e6', 'Qxb7,Rb8,Qxc6+', 'https://lichess.org/training/zEuyh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zevbC', 'Blitz', 'NM robertoyepez', 2305, 'Ricky15', 1749, 'd4,d5,c4,c6,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,Nc3,Bg4,Ne5,Nbd7,Nxg4,Nxg4,cxd5,cxd5,Nxd5,Ndf6,Nxf6+,Nxf6,e4,Nd7,e5,Nb6,Bxb7,Rb8,Bg2,Nd5,Qf3,e6,Rd1,Qb6,h4,h5,Qe4,Rfc8,Qe2,Nb4,b3,Nc2,Rb1,Nxd4,Qe4,Nf5,Be3,Nxe3,fxe3,Rc3,Rd3,Rxd3,Qxd3,Rd8,Qe4,Rd2,Rc1,Rxa2,Bf3,Bh6,Rc3,Ra1+,Kg2,Ra2+,Kh3,Rb2,g4,Rxb3,Rc8+,Kg7,gxh5,Qxe3,Qxe3,Rxe3,Kg2,Rxe5,hxg6,fxg6,Rc7+,Kf6,Rxa7,g5,h5,Rf5,Bg4,Re5,Rh7,Bg7,h6,Bf8,Rh8,Bc5,h7,Kg7,Re8,Kxh7,Bxe6,Re2+,Kf3,Re1', 'Bf5+,Kg7,Rxe1', 'https://lichess.org/training/zevbC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZEvdM', 'Rapid', 'claujane', 1746, 'AndreiKudin', 1697, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Bb4,Bf4,Nf6,a3,Bxc3+,bxc3,Nxe4,Nb5,O-O,Bd3,Qf6,Bxe4,Qxf4,Qd3,f5,Bxc6,bxc6,Nd4,a5,O-O,Ba6,c4,e5,Ne2,Bxc4', 'Nxf4,Bxd3,Nxd3', 'https://lichess.org/training/ZEvdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zEVEf', 'Rapid', 'centellitacolombia', 1897, 'mohamadalibaibars', 1890, 'd4,d5,Bf4,Nf6,e3,e6,Bd3,Bd6,Bg3,Bxg3,hxg3,Nc6,c3,Bd7,Nd2,Qe7,Qc2,O-O-O,O-O-O,Ng4,Ndf3,e5,dxe5,Ncxe5,Nxe5,Nxe5,Bf1,Ng4,Nf3,Kb8,Nd4,g6,Re1,c5,Nb3,Bf5,Bd3,Bxd3,Qxd3,Nxf2,Qb5,Nxh1,Rxh1,Qxe3+,Kb1,Qxg3,Nxc5,Qc7', 'Na6+,Kc8,Nxc7', 'https://lichess.org/training/zEVEf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZevfG', 'Blitz', 'DanilovAndrei', 1689, 'wdiedrich', 1739, 'c4,Nf6,Nc3,e6,d4,d5,Bg5,Be7,Bxf6,Bxf6,e3,dxc4,Bxc4,Bd7,e4,O-O,e5,Bg5,Nf3,Nc6,O-O,f5,exf6,Bxf6,d5,exd5,Nxd5,Bg4,Qd3,Bxf3', 'Nxf6+,Kh8,Qxh7#', 'https://lichess.org/training/ZevfG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zEVkT', 'Classical', 'vstatarenko', 1712, 'CzarnyAlibaba', 1662, 'e4,e5,Bc4,Nf6,Nf3,d5,exd5,Nxd5,Nxe5,Be6,O-O,Qg5,Re1,Bd6,Bxd5,Bxe5,d3,Bxh2+,Kxh2,Qxd5,Nc3,Qd6+,Kg1,Nc6,Nb5,Qd7,Bf4,O-O,Nxc7,Rac8,Nxe6,fxe6,Qg4,Nd4,Rac1,Qf7,Be3,Nxc2,Re2', 'Nxe3,Rxc8,Nxg4', 'https://lichess.org/training/zEVkT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZEWdN', 'Rapid', 'footbagchess95', 1700, 'Cristobaldoce', 1705, 'd4,g6,Bf4,Bg7,e3,d6,Nf3,Nd7,Be2,e5,dxe5,dxe5,Bg5,f6,Bh4,Ne7,O-O,Nf5,Nc3,Nb6,Qxd8+,Kxd8,Rad1+,Ke7,Bg3,Nxg3,hxg3,Be6,b3,Rhd8,Ne4,Nd5,Bc4,c6,Nc5,Bc8,Rd2,b6,Na4,b5,Bxd5,cxd5,Nb2,Bb7,Rfd1,a6,Nd3,Rac8,Nb2,Rc5,a4,Rdc8,Ne1,f5,Ned3,Rxc2,Nb4,Rxd2,Rxd2,Rc3,axb5,axb5,Nxd5+,Bxd5,Rxd5,Rxb3,Nd3,e4,Nc5,Rb1+,Kh2,b4,Rd7+,Kf8', 'Ne6+,Ke8,Rxg7', 'https://lichess.org/training/ZEWdN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zEWRz', 'Rapid', 'Nico131006', 1591, 'Louischessmaster07', 1722, 'e4,d5,Nc3,Nf6,Nf3,Nxe4,Bb5+,c6,Bd3,Nc5,b3,e5,Nxe5,Qe7,O-O,Qxe5,Re1,Ne4,Bxe4,Be6,Bxd5,Qf5,Bxe6,fxe6,Bb2,Bc5,d4,Be7,Re5,Qf7,Qg4,O-O,Ne4,Nd7,Rxe6,Nf6,Nxf6+,Bxf6,Rae1,Rad8,Ba3,Be7,Bxe7', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/zEWRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zexj8', 'Classical', 'mostafa85fc', 1945, 'mstef', 1799, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,d5,h3,c5,e3,cxd4,exd4,Qb6,Qc1,Ne4,c3,Nxg5,Nxg5,Bh6,Ngf3,Bf5,Be2,Qe6,Qd1,Bd3,Kf1,Bxe2+,Qxe2,Qb6,Nb3,Nd7,g3,O-O,Qxe7,Qb5+,Qe2,Qb6,Kg2,Rfe8,Qc2,Qd6,Rhe1,Nb6,Ne5,Rac8,Nc5,Rb8,Ncd3,Nc4,Nxc4,dxc4,Ne5,Qd5+,Kh2,Bg7,Rad1,Re6,Qa4,Rbe8,Qxc4', 'Qxc4,Nxc4,Rxe1,Rxe1,Rxe1', 'https://lichess.org/training/Zexj8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zEy5Y', 'Blitz', 'BLEFOUT', 2388, 'GM RobertFontaine', 2587, 'b3,e5,Bb2,Nc6,e3,Nf6,Bb5,Bd6,Na3,Na5,Be2,O-O,Nb5,Nc6,Nxd6,cxd6,Nf3,e4,Nd4,d5,d3,d6,h3,Ne5,Qd2,Bd7,f4,Ng6,g4,a5,a4,Ne8,g5,Nc7,h4,Ne7,h5,Nf5,Nxf5,Bxf5,h6,g6,Qc3,f6,gxf6,Rf7,Rg1,b5,axb5,Nxb5,Qd2,Qb6,Bg4,Bxg4,Rxg4,d4,dxe4,dxe3,Qd5,Re8,Rxg6+,Kf8,Rg7,Qc7,Qxb5,Qxc2,Rg8+,Kxg8', 'Qxe8+,Rf8,f7#', 'https://lichess.org/training/zEy5Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zeyCl', 'Blitz', 'kriek17', 1574, 'voltaicspartan', 1606, 'd4,d5,c4,e6,Nc3,c6,Nf3,Nf6,Bg5,Be7,e3,O-O,cxd5,cxd5,Be2,Nc6,Nd2,Bd7,O-O,Rc8,a3,Na5,h4,Nc4,Nxc4,dxc4,Bxf6,Bxf6,g4,h6,h5,b5,f4,a5,Ne4,Be7,g5,hxg5,fxg5,b4,axb4,axb4,g6,f5,Ng3,c3,bxc3,bxc3,Qc2,Qb6,Bd3,Rc7,e4,f4,Ne2,f3,Nf4,Qxd4+,Kh1,Rxf4,Ra8+,Rf8,Rxf8+,Bxf8,Rxf3,Ba4,Qc1,c2,Bxc2,Rxc2,Qf4,Qd6', 'Qf7+,Kh8,Qxf8+,Qxf8,Rxf8#', 'https://lichess.org/training/zeyCl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zeZZv', 'Rapid', 'Crocs48', 1836, 'Zakie67', 1771, 'e4,e6,d4,d5,Nc3,c5,exd5,exd5,Bb5+,Bd7,dxc5,Nf6,Nge2,Bxc5,O-O,O-O,Bg5,Qb6,Bxf6,Bxb5,Nxd5,Qc6,Ne7+,Bxe7,Bxe7,Re8,Nd4,Qb6,Nxb5,Qxb5,Ba3,Nc6,Re1,Rxe1+,Qxe1,Nd4,Qe4,Ne6,c4,Qd7,Rc1,Re8,Qd5,Qa4,Qxb7,Nd4,Rf1,Qxc4,Qd7,Ne2+,Kh1,Rc8,Rd1,h6,g3', 'Qe4+,f3,Qxf3#', 'https://lichess.org/training/zeZZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zf0q3', 'Rapid', 'drakdas', 1913, 'LorisDC', 1903, 'e4,c5,f4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qd8,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,Ne5,Qc7,d4,O-O-O,d5,e6,dxc6,Rxd1,cxb7+,Kxb7,Rxd1,Nf6,g4,Bd6,g5,Bxe5,fxe5,Nd5,Nxd5,exd5,Bf4,c4,Rxd5,Re8,Rad1,Qb6+,Kg2,Re6,Rd7+,Kc8,Rxf7,Qc6+,Kg3,c3,Rf8+,Kb7,bxc3,Qxc3+,Kg4,h5+,gxh6,Rg6+,Kf5', 'Qxc2+,Rd3,Qxd3#', 'https://lichess.org/training/Zf0q3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zf1sP', 'Rapid', 'sh10928', 1812, 'arulsmansa', 1812, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,Ngf3,Be6,Bb5+,Nc6,Ne5,Rc8,Ndf3', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/Zf1sP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zF463', 'Rapid', 'ChJesus', 1867, 'EdwinAlejandro', 2008, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Nc3,Qf6,Qb3,Bc5,Nf3,Nh6,Nd5,Qd8,Bxg7,Ng4,Bxh8,Bxf2+,Kf1,d6,h3,Ne5,Nxe5,dxe5,Nf6+,Ke7,Nd5+,Kf8,Kxf2,Qh4+,g3,Qxe4,Nxc7,Qd4+,Kg2,b6,Nxa8,Bb7+,Bd5', 'Bxd5+,Qxd5,Qxd5+', 'https://lichess.org/training/zF463');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZF59B', 'Rapid', 'bigbunk', 1737, 'deepmove2020', 1802, 'e4,c5,Nf3,Nc6,Be2,g6,c3,Bg7,O-O,d6,Bb5,Nf6,e5,dxe5,Bxc6+,bxc6,Nxe5,Qc7,Nf3,O-O,d3,h6,h3,Qd6,Qd2,Ba6,c4,Rfd8,b3,Qxd3,Qxd3,Rxd3,Bb2,Rad8,Ne5,R3d6,Nc3,Bb7,Na4,Nd7,Nxc5', 'Nxc5', 'https://lichess.org/training/ZF59B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zFB8T', 'Rapid', 'breizhmasters', 1915, 'Mieras', 2269, 'c4,Nf6,g3,e5,Bg2,Nc6,Nc3,Bb4,e3,O-O,Nge2,Re8,O-O,a5,d4,Bf8,a3,d6,d5,Nb8,Qc2,Nbd7,b3,Nc5,Bb2,a4,b4,Nb3,Rae1,Bd7,Nc1,Nxc1,Rxc1,Qb8,e4,g6,Rb1,h5,Bc1,Bg7,c5,Qa7,Be3,Ng4,Bg5,dxc5,bxc5,Qxc5,Rb4,f6,Bd2,Bf8,h3,Nxf2,Rxf2,Qa7,Rb2,Bc5,Be1,Bxa3,Nb5,Qb6,Nxa3,Qd6,Nc4,Qc5,Bb4,Qd4,Kh2,f5,Rd2,Qa7,Ba3,b5,Ne3,f4,Bc5,fxg3+,Kxg3,Qa6,Bf1,a3,Ra2,Qf6,Rf2,Qg5+,Kh2,b4,d6,cxd6,Qc4+,Be6,Qc2,dxc5,Nd5,Bxd5,exd5,Rf8,Rxf8+,Rxf8,d6,Rxf1', 'Qc4+,Kg7,Qxf1', 'https://lichess.org/training/zFB8T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZFBat', 'Blitz', 'Tunartank', 2376, 'GM Maksat-94', 2474, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,Bd3,d5,exd5,Qxd5,O-O,Bxc3,bxc3,O-O,Bg5,Qc6,Nd2,Nbd7,Qe2,h6,Bh4,Re8,Ne4,Nxe4,Bxe4,Qc7,Qf3,Nc5,Rfe1,Nxe4,Qxe4,f6,Qg6,Qf7,Qd3,Be6,Qd6,b5,a3,Red8,Qc5,Rac8,Qe3,Rc4,Rad1,Rxd1,Rxd1,Rxh4,Rd8+,Kh7,Qd3+,Qg6,Rh8+,Kxh8,Qxg6,Rc4,Qe8+,Bg8,Qa8,Rxc3,Qxa6,Rxc2,g3,Rc1+,Kg2,Bd5+,Kh3,Bc4,Qc8+,Kh7,Qf5+,Kh8,Qc8+,Kh7,Qf5+,Kh8,Qe4', 'Bf1+,Kg4,Rc4', 'https://lichess.org/training/ZFBat');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zfc2Y', 'Blitz', 'IM pawnwonder', 2299, 'agnivo2008', 2200, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,h3,h6,Qf3,c6,Bf4,Bd6,Qg3', 'Nh5,Bxd6,Nxg3', 'https://lichess.org/training/Zfc2Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZfCBn', 'Classical', 'Agri1989', 1725, 'sasha1972', 1857, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bg4,d4,a6,Be2,Nf6,h3,Bh5,Bg5,Be7,Bxf6,Bxf6,d5,Ne7,b3,Bxf3,Bxf3,c6,c4,b5,O-O,cxd5,cxd5,Ng6,Nd2,Nf4,Kh2,h5,g3,Ng6,Rg1,Qb6,Qe2,h4,Raf1,Bg5,Bg4,hxg3+,fxg3,Ke7,Nf3,Qe3,Nxg5,Qxg5,Rf5,Qh6,Rh5,Nf4,gxf4,Qxf4+,Rg3,Rxh5,Bxh5,Rh8,Bg4,g6,Qe3,f5,exf5,gxf5,Bxf5,Qxf5,Rf3,Qc2+,Rf2,Qh7,Qa7+,Kd8,Qb8+,Ke7,Qc7+,Ke8,Qc8+,Ke7,Qe6+,Kd8,Qxd6+,Qd7,Rf8+,Rxf8,Qxf8+,Kc7,Qc5+,Kd8,Kg3,Qg7+,Kf3,Qf6+,Kg4,Qf4+,Kh5,Qf5+,Kh6,Qxh3+,Kg6,Qg4+,Kf6,Qf4+,Ke6,e4,d6,Qg4+,Kf6,Qf4+,Kg6,Qg3+,Kf7,Qf4+,Kg6,Qg4+,Kh6,Qe6+,Kg5,Qg8+,Kf4,Qf8+,Kxe4,Qe8+,Kd5,Qf7+,Kc6,Qd7+,Kd5,Qf7+,Ke4,Qe8+,Kd3,Qg6+,Kc3,Qg3+,Kb4,Qe1+,Qc3,Qxc3+', 'Kxc3,Kd7,Kb4,Kxd6,Ka5', 'https://lichess.org/training/ZfCBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zfctg', 'Blitz', 'FM xavielhumilde99', 2477, 'FM Hadza_3', 2416, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Nc3,Qf6,Qe2,Nge7,Be3,O-O,O-O-O,d6,f3,Be6,Kb1,Ne5,Qf2,Ng4,fxg4,Qxf2,Bxf2,Bxf2,Be2,Ng6,h3,Rfe8,Rhf1,Bh4,Nd4,a6,Nf5,Bf6,Bf3,Bxc3,bxc3,Ne5,Ne3,Bc4,Rfe1,b5,Rd4,Be6,Red1,a5,a3,Reb8,Kb2,g6,g5,Kg7,h4,Nc6,R4d2,b4,cxb4,axb4,axb4,Nxb4,Kc3,Ra3+,Kb2,Rxe3,Re2,Rxe2,Bxe2,Nd3+,Kc3,Nc5,Bf3,Bd7,e5,dxe5,Kc4,e4,Be2,Be6+,Kxc5,Rb2,Rc1,Bb3,Bd1,Be6,Kd4,Rb4+,Ke3,Rc4,c3,Rc6,Kxe4,Rd6,Bf3,Bf5+,Ke3,Rd3+,Ke2,Rd6,c4,h5,c5,Re6+,Kf2,Re5,c6,Ra5,Rd1,Ra2+,Kg3,Rc2,Rd7', 'Bxd7,cxd7,Rd2', 'https://lichess.org/training/zfctg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZfdhS', 'Blitz', 'poop_toilet', 1641, 'Raifilmagem', 1637, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nf3,Be7,Be3,O-O,Nc3,Bg4,c5,dxc5,dxc5,Qxd1+,Rxd1,N6d7,b4,Nc6,a3,Rad8,Be2,Nce5,Nxe5,Nxe5,Bxg4,Nxg4,Rxd8,Rxd8,Ke2,Nxe3,Kxe3,c6,Rd1,Bg5+,f4,Rxd1,Nxd1,Bf6,g4,Kf8,g5,Ba1,h4,Ke7,Ke4,g6,a4,f5+,Kd3,Ke6,Kc4,b6,cxb6,axb6,Nc3,Kd6,b5,Bxc3,Kxc3,Kc5,bxc6,Kxc6,Kb4,Kb7,Kb5,Ka7,Kc6,Ka6,Kc7', 'Ka5,Kd6,Kxa4,Ke6,b5,Kf7,b4,Kg7,b3,Kxh7,b2', 'https://lichess.org/training/ZfdhS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zfDje', 'Rapid', 'KhaledabdelgwwaD', 2083, 'ramushi1992', 1998, 'e4,Nf6,Nc3,e5,Nf3,Bb4,a3,Bxc3,dxc3,O-O,Bd3,d5,Qe2,Re8,h3,d4,cxd4,exd4,Bg5,Nbd7,O-O-O,h6,Bh4,g5,Bg3,Nc5,e5,Nxd3+,Qxd3,Nh5,h4,Nxg3,fxg3,g4,Nxd4,Qe7,Qe3,Kg7,e6,Bxe6,Rhe1,Qf6,Nxe6+,Rxe6,Qc5,Rc6,Qh5,Qg6,Qxg6+,Kxg6,Re4,f5,Re7,Kf6,Rdd7,Rc8,Rh7,Ke5,Rde7+,Kd4,c3+,Kd3,Rd7+,Ke2,Rdf7,Kf2,Rxf5+,Kxg2,Rh5,Kxg3,R7xh6,Rxh6,Rxh6,Rd8,h5,Rd7,Rg6,Kh4,h6,Kh5,Rg7,Rd8,h7,Rh8,Kc2,Kh4,Kd2,g3,Ke2,Kh3,Kf3,g2,Rxg2', 'Rf8+,Ke2,Kxg2', 'https://lichess.org/training/zfDje');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zFhLs', 'Rapid', 'jskins', 1708, 'Gabrielesc1178', 1689, 'e4,e5,d3,c6,Be3,d5,c3,Nf6,Nf3,Bg4,Be2,Bxf3,Bxf3,d4,cxd4,exd4,Bg5,Nbd7,O-O,Be7,e5,Nd5,Bxe7,Nxe7,Re1,O-O,Nd2,Qc7,Qb3,Rab8,e6,Ne5,Bh5,g6,exf7+,Rxf7,Bxg6,N7xg6,Ne4,Kh8,Ng5,Ng4,Nxf7+,Kg7,h3,Nxf2,Kxf2,Rf8,Kg1,Rxf7,Qa4,c5,Qxa7,Nh4,Re4,Nf3+,gxf3,Qg3+,Kf1,Rxf3+,Ke2,Qf2+,Kd1,Rxd3+,Kc1', 'Qd2+,Kb1,Qd1#', 'https://lichess.org/training/zFhLs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZFin4', 'Blitz', 'supertolchok', 2414, 'FM Hadza_3', 2398, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Nf6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Nf2,Rf8,O-O,Kg8,d4,c6,Nd3,Bg4,Qe1,Nd7,Bxf4,Nf6,Be5,Ne4,Qe3,Bxf3,Rxf3,Bg5,Qe2,Qe7,Raf1,Rxf3,Qxf3', 'Nd2,Qe2,Nxf1', 'https://lichess.org/training/ZFin4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZfKBp', 'Rapid', 'romenlik12', 1802, 'Siddhant1902', 1708, 'e4,e6,e5,d5,d4,c5,c3,Nc6,Bb5,Bd7,Bxc6,bxc6,Nf3,cxd4,cxd4,c5,O-O,Bb5,Re1,Qb6,Be3,Nh6,Bxh6,gxh6,Nc3,a6,a4,Bc6,Qd2,cxd4,Nxd4,Bc5,Nce2,Rb8,Nxc6', 'Bxf2+,Kh1,Bxe1,Rxe1,Qxc6', 'https://lichess.org/training/ZfKBp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zfkwm', 'Blitz', 'Excalibrave', 2194, 'hosein1382', 2143, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nf6,e5,dxe5,Qxd8+,Kxd8,Nxe5,Be6,Nc3,Nbd7,Nxd7,Bxd7,Be3,e6,O-O-O,a6,Na4,Nd5,Rxd5,exd5,Nb6,Rb8,Bf4,Bc5,Bxb8,Bxb6,Bg3,f6,Bd3,Ke7,Re1+,Kf7,f3,g6,c3,Re8,Rxe8,Bxe8,Bc2,Be3+,Kd1,Bb5,Ke1,Ke6,b3,Bc6,Ke2,Ba7,Bf2,Bb8,g3,Be5,Bd4,Be8,Ke3,h5,f4,Bb8,a4,Kf7,b4,Bd7,a5,Be6,Bb3,Bd6,Bc5', 'Bxc5+,bxc5,d4+,Kxd4,Bxb3,c6,bxc6', 'https://lichess.org/training/Zfkwm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZFL3s', 'Rapid', 'Oeil-de-Faucon', 1653, 'the_crafty_zebra_0', 1629, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Bb5,Nf6,Bxc6+,bxc6,h3,Ba6,Re1+,Be7,d3,O-O,Nc3,c4,dxc4,Bxc4,b3,Ba6,Ne5,Qb6,Nxc6', 'Qxc6,Rxe7,Qxc3', 'https://lichess.org/training/ZFL3s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zFLjG', 'Blitz', 'SM888', 1851, 'guillermo1972', 1808, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,c5,c3,cxd4,exd4,Nc6,Nbd2,h6,h3,Bd6,Ne5,O-O,Bd3,Nh7,Qc2,f5,g4,Bxe5,Bxe5,Nxe5,dxe5,Ng5,f4,Ne4,Nf3,a6,O-O,b5,Kh2,fxg4,hxg4,Bb7,Rg1,Qe8,Qg2,h5,Bxe4,dxe4,Ng5,Rxf4,Raf1,Rxg4,Qh3,Rxg1,Kxg1,Qg6,Qe3,Rf8,Rxf8+,Kxf8,Qc5+,Kg8,Qe7,e3', 'Qd8+,Qe8,Qxe8#', 'https://lichess.org/training/zFLjG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zFLTz', 'Rapid', 'InfinityXD', 1767, 'netgold', 1781, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,d3,Bc5,Bf4,d6,O-O,Nf6,c3,Ng4,h3,h5,hxg4,hxg4,Re1,Qh4,Kf1,Qh1+,Ke2,Qxg2,Rg1,Qf3+,Kd2,dxc3+,Kxc3,Qxf4,Nd2,Qe5+,Kc2,Bxf2,Rf1,g3,Nf3,Qc5,Rc1,b5,Kb1,bxc4,Rxc4,Qb6,Qa4+,Kf8,Ng5,Ba6,Rb4,Bxd3+,Ka1,Qa6,Qb3,d5,Qxd5,Qf6,Qxa8+,Ke7,Qxh8,Bxf1,Rb8,Qxg5', 'Qd8+,Ke6,Qxg5', 'https://lichess.org/training/zFLTz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zFlWT', 'Rapid', 'jurandirjunior', 1865, 'franm99', 1818, 'd4,d5,c4,Bf5,Nc3,e6,cxd5,exd5,Nf3,h6,Bf4,Nf6,e3,Bb4,Bd3,Be6,O-O,Nc6,a3,Bxc3,bxc3,O-O,Rb1,Rb8,Bb5,Qe7,Bxc6,bxc6,Qd2,Rxb1,Rxb1,Qxa3,Bxc7,Ne4,Qb2,Qxb2,Rxb2,Nxc3,Ne5,Rc8,Ba5,Nb5,Rc2,Kf8,Rxc6,Rb8', 'Rxe6,fxe6,Nd7+,Ke7,Nxb8', 'https://lichess.org/training/zFlWT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZfMSw', 'Classical', 'ian2891', 1635, 'shivnandan', 1639, 'd4,d5,c4,dxc4,Nc3,e6,e4,h6,Bxc4,c6,f4,a6,Nf3,Ne7,O-O,Bd7,Qb3,b5,Bd3,a5,a4,b4,Ne2,Na6,Ng3,Nc7,e5,Ncd5,Ne4,Ng6,g3,Be7,h4,Qc7,Bd2,Bd8,Nd6+,Ke7,Rac1,f6,Bxg6,fxe5,fxe5,Qb8,Nh2,Bc7,Rf7+,Kd8,Ne4,Be8,Rxg7,Bxg6,Rxg6,Kc8,Rxc6,Kb7,Rgxe6,Qd8,Nc5+,Kb8,Ne4,Ne7,Nd6,Nxc6,Qd5,Qd7,Rf6,Ra6,e6', 'Qxd6,Qxd6,Bxd6', 'https://lichess.org/training/ZfMSw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zfnh6', 'Rapid', 'lefterisGr', 1812, 'koho36', 1831, 'd4,Nf6,c4,e6,Nc3,d5,e3,g6,Nf3,Bg7,Ne5,O-O,h4,Nbd7,f4,Nh5,g4,Ng3,Rg1,Qxh4', 'Nf3,Qe7,Rxg3', 'https://lichess.org/training/zfnh6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZfNTd', 'Rapid', 'Aziz_76', 1867, 'Brucybabe', 1816, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,Bb5,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Nf6,h3,O-O,f4,Rb8,Rb1,Nh5,Qe1,Qa5,f5,a6,fxg6,fxg6,Rxf8+,Rxf8,a3,e6,Qd2,c5,Qxd6,Re8,e5,Ng3,Bxc5,Bf8,b4', 'Bxd6,bxa5,Bxc5+', 'https://lichess.org/training/ZfNTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zfOUQ', 'Rapid', 'theloop', 1876, 'Krondado', 1801, 'c4,e5,g3,Nf6,Bg2,d5,cxd5,Nxd5,Nc3,Nxc3,bxc3,c6,a4,Be6,Nf3,f6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O,Nd7,Qb2,Rb8,a5,Bc4,Rfc1,Ba6,e4,Re8,Qb3+,Kh8,Nh4,Nf8,d5,cxd5,exd5,Ng6,Nxg6+,hxg6,Qc2,f5,Qc5,b6,Qc6,Kh7,axb6,Rxb6,Qc7', 'Re1+,Rxe1,Qxc7', 'https://lichess.org/training/zfOUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZFPaA', 'Rapid', 'sonofsun', 1679, 'Malezyjczyk', 1715, 'd4,e5,e4,Nc6,d5,Nd4,c3,Nc6,dxc6,bxc6,Nf3,d6,Bc4,Nf6,Ng5,d5,exd5,cxd5,Bb5+,Bd7,a4,c6,Be2,Bd6,O-O,Qb8,b4,e4,h3,h6,Nxf7,Kxf7,f3,Kg8,Be3,Nh5,fxe4', 'Bh2+,Kh1,Ng3+,Kxh2,Nxf1+,Kg1,Nxe3', 'https://lichess.org/training/ZFPaA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zFpJc', 'Classical', 'celsi', 1672, 'Sevenfifty', 1821, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Na3,cxd4,cxd4,a6,Nf3,Ne7,Bd3,Ng6,b3,Bd7,Nc2,Bb5,O-O,Bxd3,Qxd3,Nc6,a3,Be7,Bg5,O-O,Bxe7,Ngxe7,Ng5,Ng6,f4,h6,Nh3,Qd8,f5,exf5,Rxf5,Qd7,Raf1,Nd8,Rh5,Ne6,Ne3,Rac8,Ng4,Rc7,Rxh6,gxh6', 'Nf6+,Kg7,Nxd7', 'https://lichess.org/training/zFpJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zFqgg', 'Rapid', 'martmeer', 1867, 'YFKilli', 1839, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be7,O-O,O-O,h3,h6,Bf4,c5,dxc5,Bxc5,Nbd2,Nc6,Re1,Qb6,Be3,Bxe3,Rxe3,Qxb2,Nb3,Qa3,Nbd4,Nxd4', 'Bh7+,Nxh7,Rxa3', 'https://lichess.org/training/zFqgg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zFr52', 'Blitz', 'Aresiscool', 2198, 'goreeva', 1864, 'e4,c6,Nc3,d5,Nf3,Bg4,h3,Bh5,d3,e6,g4,Bg6,Ne5,Bd6,Nxg6,hxg6,Bg2,g5,Qe2,d4,Nb1,Bf4,Bxf4,gxf4,e5,Qa5+,c3,Nd7,b4,Qb6,O-O,dxc3,Nxc3,Qd4,Rac1,Nxe5,Rfd1,f3,Bxf3,Rxh3,Bg2,Rxd3,Ne4,Rxd1+', 'Rxd1,Qxb4,Nd6+,Kf8,Qxe5', 'https://lichess.org/training/zFr52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZfRxF', 'Rapid', 'RudyStyle', 1860, 'Mr_Greek', 2087, 'e4,c6,Ne2,d5,e5,Bf5,d4,e6,Ng3,Ne7,Bd3,Bg6,Bg5,Nd7,Nd2,Nb6,b3,Bxd3,cxd3,h6,Be3,Qd7,f4,Nf5,Nxf5,exf5,O-O,Be7,a4,Qe6,Rc1,a6,Nf3,Nd7,Rc2,Nf8,Bf2,Qd7,Bh4,Ne6,Bg3,g5,fxg5,hxg5,h3,O-O-O,Nh2,f4,Bf2,Rdg8,Ng4,Rh7,Qb1,Rgh8,b4,Kb8,b5,cxb5,axb5,Qxb5,Qxb5,axb5,Rb1,b4,Ra2,Rc8,Be1,Nxd4,Bxb4,Bxb4,Rxb4,Nc6,Rba4,Kc7,Ra8,Rhh8,R8a3,Rhe8,Re2,d4,Nf6,Re6,Nd5+,Kb8,Rea2,b5,Ra8+,Kb7,Rxc8,Kxc8,Rb2,b4,Nxb4,Nxb4,Rxb4,Rxe5,Rxd4,Re3,Kf2,Kc7,Rd5,f6,Rf5,Re6,Kf3,Kd6,Kg4,Ke7,h4,gxh4,Kxh4,Re3,d4,Rg3,Rxf4,Rxg2,Kh5,Ke6,Kh6,Kf7,Re4', 'Rh2+,Rh4,Rxh4#', 'https://lichess.org/training/ZfRxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZfsWB', 'Rapid', 'Ali_Mardani', 1849, 'Ygalbel', 1829, 'd4,d5,c4,dxc4,Nc3,Nf6,Bg5,e6,Bxf6,Qxf6,e3,Nc6,a3,Be7,Bxc4,Bd7,Nf3,O-O,Bb5,a6,Bxc6,Bxc6,Rc1,Bxf3,Qxf3,Qxf3,gxf3,c5,dxc5,Bxc5,Ne4,Be7,Ke2,Rac8,Rhg1,Rxc1,Rxc1,Rb8,Rc7,Bf8,Nd2,b5,Nb3,g6,Nd4,Bg7,Nc6,Rb6,Ne7+,Kf8,Nc6,Bxb2,f4,Bxa3,Ne5,Be7', 'Nd7+,Ke8,Nxb6', 'https://lichess.org/training/ZfsWB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZFvZI', 'Rapid', 'AlexanderYO', 1673, 'bork4oo', 1685, 'e4,e6,Nc3,d5,d4,c5,Bb5+,Nc6,Qe2,cxd4,Nxd5,exd5', 'exd5+,Be7,dxc6', 'https://lichess.org/training/ZFvZI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zFW6b', 'Blitz', 'FM fmewert', 2413, 'JuanNeuroX', 2034, 'Nc3,Nf6,e4,e5,Nf3,Nc6,Bb5,Bb4,O-O,O-O,d3,d6,Bxc6,bxc6,Ne2,Ba5,Ng3,Bb6,h3,Re8,Be3,Qe7,Nh4,Bxe3,fxe3,g6,Qf3,Nd7,Nhf5,gxf5,Nxf5,Qg5', 'Nh6+,Kg7,Qxf7+,Kxh6,Qxe8', 'https://lichess.org/training/zFW6b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZFWeC', 'Blitz', 'younes1717', 2237, 'CM Manfredo64', 2265, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,d5,e3,O-O,b3,c5,Bb2,cxd4,Nxd4,Nc6,Nxc6,bxc6,cxd5,cxd5,Be2,Bb7,O-O,Rc8,Na4,Qa5,Rc1,Rxc1,Qxc1,Rc8,Qd1,e6,Qa1,Ne8,Bxg7,Nxg7,Rc1,Qd2,Rxc8+,Bxc8,Qc3,Qxc3,Nxc3,Ne8,Kf1,Kf8,Ke1,Ke7,Kd2,Bb7,f3,e5,Nb5,a6,Na3,Nd6,Nc2,a5,g4,f5,h3,h6,Kc3,g5,a3,f4,Kd2,Kd7,b4,axb4,axb4,Kc6,Na3,Kb6,exf4,gxf4,h4,e4,g5,hxg5,hxg5,Nf5,fxe4,dxe4,Bg4,Ng7,Nc4+,Kb5,Nd6+,Kc6,Nxb7,Kxb7,Kc3,Kb6,Kd4,e3,Ke5,Kb5,Kxf4,Kxb4,Ke5,Kc3,Kf6,Ne8+,Ke7,Nc7', 'g6,e2,Bxe2', 'https://lichess.org/training/ZFWeC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZfWHe', 'Bullet', 'jihaan123', 1697, 'chirag1208', 2043, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nf3,Be7,Bc4,O-O,Nd5,Be6,Nxf6+,Bxf6,Bxe6,fxe6,O-O,Nc6,Re1,d5,exd5,exd5,Bc5,Re8,c3,e4,Nd4,Nxd4,Bxd4,Bxd4,Qxd4,Rc8,Rad1,Qh4,Qxd5+,Kh8,Qxb7,Rb8,Qd5,Rxb2,Rxe4', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/ZfWHe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zfwIy', 'Rapid', 'sainathppihg', 1708, 'sunshiliang2000', 1627, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be2,h5,h3,Qd6,Be3,Bxe3,fxe3,Be6,c3,O-O-O,Nd2,g6,d4,Qg3+,Kf1,h4,e5,Nd5,Qe1', 'Nxe3+,Kg1,Qxg2#', 'https://lichess.org/training/zfwIy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZfWqw', 'Rapid', 'mcelal', 1709, 'Spich', 1620, 'e4,d5,exd5,Nf6,Nf3,c6,dxc6,Nxc6,Bb5,Bg4,O-O,e6,d3,Bd6,Bg5,h6,Bxf6,Qxf6,Nbd2,a6,Bxc6+,bxc6,a3,Rb8,b3,Rb5,c4,Rh5,Ne4,Bxh2+,Nxh2,Qh4,f3,Qxh2+,Kf2,Bh3,Ke3,Bxg2,Rf2,e5,Qg1,Qf4+,Ke2,Bxf3+,Rxf3,Rh2+,Rf2,Rxf2+,Nxf2,O-O,Qg4,Qf6,Ne4,Qe7,Rg1', 'f5,Qg3,fxe4', 'https://lichess.org/training/ZfWqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zfxRQ', 'Rapid', 'fogof', 2196, 'bender5', 1961, 'e4,e5,Nf3,Nc6,c4,d6,g3,f5,d3,Nf6,Nc3,Be7,Bg2,O-O,h3,fxe4,dxe4,Qe8,Nd5,Nxd5,exd5,Na5,Nd2,Qf7,O-O,b6,b3,Nb7,Ne4,Nc5,Nxc5,bxc5,f4,Qg6,Kh2,Bd7,fxe5,Rxf1,Qxf1,Rf8,Qe2,dxe5,Bb2,Bd6,Be4,Qf6,Kg2,Qh6,g4,Qf4,Rf1,Qxf1+,Qxf1,Rxf1,Kxf1,g6,Kf2,Kg7,Ke3,g5,Bc3,h6,a3,Kf6,b4,Bc8,b5,Bd7,Bh7,Bc8,a4,Bd7,Bc2,Bc8,a5,Bd7,Ke4,Bc8,Ba4,Bb7,Bb2,Bc8,a6,Bd7', 'b6,cxb6,Bxd7', 'https://lichess.org/training/zfxRQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZfzfO', 'Blitz', 'tonicwater', 2100, 'DMosk', 2254, 'e4,g6,d4,Bg7,Nc3,a6,Be3,d6,a4,b6,h3,Nf6,Nf3,Bb7,Bd3,Nc6,O-O,Nb4,e5,Nd7,e6,fxe6,Ng5,Nf8,Qg4,Nxd3,cxd3,Qd7,Qf4,Bf6,Nce4,O-O-O,Rfc1,e5,dxe5,Bxe5,Qf7,h6,Bxb6,hxg5,Rxc7+,Qxc7,Bxc7,Kxc7,Rc1+,Kb8,Nxg5,Nd7,Qxe7,Rhe8,Qf7,Rf8,Qxg6,Bf4,Rc4,Ne5,Qg7,Nxc4,Ne6,Rg8,Qc7+,Ka8,Nxd8', 'Rxg2+,Kf1,Nd2+,Ke1,Rg1+,Ke2,Bf3#', 'https://lichess.org/training/ZfzfO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zG0Iw', 'Rapid', 'Muhammed_Azim', 1605, 'kacperk', 1953, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,d3,c6,Nf3,d5,cxd5,cxd5,O-O,Nc6,d4,Re8,Bg5,h6,Bf4,Nh5,Be3,Qb6,Qd2,Nf6,Bxh6,Bxh6,Qxh6,Qxb2,Rac1,Bf5,Ng5,e6,e4,dxe4,Ncxe4,Bxe4,Nxe4,Nxe4,Bxe4,Qxd4,Bxc6,bxc6,Rxc6,Rac8,Rxc8,Rxc8,Rc1,Rb8,h4,Qd5,a4,Qf3,Qg5,Kg7', 'Qe5+,Qf6,Qxb8', 'https://lichess.org/training/zG0Iw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zg1Xi', 'Blitz', 'blunderblunder', 1688, 'ade_12345', 1643, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,Bxf3,gxf3,c6,d3,Nd7,f4,Nb6,Bb3,f6,f5,g5,Qh5+,Kd7,Be6+,Kc7,Bxg8,Rxg8,Qf7+,Be7,Be3,Qf8,Bxb6+,axb6,Qb3,Ra5,Na4,Rb5,Qc4,Qa8,b3,Rd8,Qe6,Rd7,c4,Rb4,Ke2,b5,cxb5,Rxb5,Rac1,Qd8,f3,d5,exd5,Rdxd5,Qf7,Rd7,Rcd1,Bc5,Qc4,Rd4,Qf7+,Be7,Rc1,Rbd5,Rhd1,Rxd3,Rxd3,Rxd3,Nc5,Rd2+,Ke1,Kb6,Na4+,Ka7,Qc4,b5,Qxc6,bxa4,Qxa4+,Kb7,Qb5+,Qb6,Qe8,Bb4', 'Qc8+,Ka7,Rc7+,Qxc7,Qxc7+', 'https://lichess.org/training/Zg1Xi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zg2Wr', 'Blitz', 'Jan75', 1570, 'sergeyps', 1617, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,e6,Ne5,Nxe5,dxe5,Nd7,f4,Be7,a3,O-O,Nc3,a6,Ne2,Nc5,Ng3,Rc8,f5,exf5,Nxf5,Rc7,Qg4,Ne6,Nxg7,Nxg7,Bh6,Bc5+,Kh1,f6,exf6,Rxf6,Rxf6,Qxf6,Bf4,Bd6,Bxd6,Qxd6,g3,Rxc2,Rf1,d4,Qf3,d3', 'Qf7+,Kh8,Qf8+,Qxf8,Rxf8#', 'https://lichess.org/training/zg2Wr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZG3iN', 'Blitz', 'zahovm', 1650, 'nenelekeke', 1520, 'd4,e6,e3,c5,dxc5,Bxc5,Be2,Ne7,a3,O-O,Nd2,d5,Ngf3,Bd6,b4,Nf5,Bb2,Qe7,O-O,Nd7,c4,dxc4,Nxc4,Bc7,Nd4,Nxd4,Bxd4,e5,Bb2,b5,Nd2,Nb6,Bf3,Rb8,Ne4,Qe6,h3,Bb7,Rc1,Nc4,Ba1,Rfd8,Qe2,Qg6,Nc5,Bxf3,Qxf3,Bb6,Ne4,Bc7,a4,Nd6,Ng3,e4,Qe2,Rbc8,Be5,a6,Bxd6,Bxd6,axb5,axb5,Rxc8,Rxc8,Qxb5,Qh6,Nxe4,Bc7,Ng3,Qd6,Qb7,Rd8,b5,Ba5,Ne4,Qe5,Ra1,Bc7,Ra8', 'Qh2+,Kf1,Qh1+,Ke2,Qd1#', 'https://lichess.org/training/ZG3iN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zG5nQ', 'Rapid', 'Boiachetesecarca', 1706, 'sikier', 1719, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,h6,Nc3,Bb4,Bc4,Nge7,Qd3,a6,O-O-O,b5,Bb3,Na5,Nd5,Nxb3+,Nxb3,Nxd5,Qxd5,c6,Qd3,O-O,Bd4,Qg6,g3,Bb7,f4,Rfe8,f5,Qg5+,Be3,Qf6,Nc5,Ra7,Nxb7,Rxb7,Bd4,Qe7,e5,c5,Bc3,c4,Bxb4,Qxb4,Qe3,d6,Rxd6', 'Qxd6,exd6,Rxe3', 'https://lichess.org/training/zG5nQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zg712', 'Blitz', 'Spartak1946', 2240, 'mrkim416', 2262, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,e6,Ne5,Bh7,Bc4,Nf6,Qe2,Nd5,Bd2,Nd7,O-O-O,Nxe5,dxe5,Be7,Nh5,Bf8,Bd3,Bxd3,Qxd3,Qc7,c4,Nb6,Ba5,Rd8,Qg3,Rxd1+,Rxd1,Qe7,Nf6+,gxf6,exf6,Qd7,Qb8+,Qc8', 'Qxc8+,Nxc8,Rd8#', 'https://lichess.org/training/Zg712');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zg8bj', 'Rapid', 'Ismailtal', 1676, 'loosebutts', 1646, 'e4,d5,exd5,Nf6,Nc3,e6,Nf3,Qe7,Bb5+,c6,dxc6,Nxc6,O-O,Bd7,Re1,Ng4,h3,h5,d3,Qc5,Be3,Nxe3,Rxe3,O-O-O,b4', 'Qxc3,d4,Qxb4', 'https://lichess.org/training/zg8bj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zg8Nu', 'Blitz', 'aznz', 1802, 'steinar', 1745, 'd4,d5,Bf4,e6,e3,Nf6,Bd3,c5,dxc5,Nc6,c3,Bxc5,Nf3,O-O,Nbd2,Nh5,Qc2,g6,O-O-O,Nxf4,exf4,Re8,h4,Bf8,h5,Qe7,hxg6,fxg6,Rh2,e5,fxe5,Nxe5,Nxe5,Qxe5,Rdh1,Re7,Bxg6,hxg6', 'Qxg6+,Qg7,Rh8#', 'https://lichess.org/training/zg8Nu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zgbfF', 'Bullet', 'rahzyvel', 1763, 'Vinurulz', 1799, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,e6,Nxc6,bxc6,Bc4,Ne7,Qd6,O-O,O-O-O,Re8,e5,a5,g4,Nd5,Nxd5,cxd5,Bf4,dxc4,h4,Bb7,Rh2,Bd5,h5,Rb8,hxg6,hxg6,Qa3,Qb6,Bg5,a4,Qh3,Qxb2+,Kd2,Qd4+,Kc1,Qb2+,Kd2,c3+,Ke1,Qxc2,Qh7+,Kf8,Qh8+,Bxh8', 'Rxh8+,Kg7,Bf6#', 'https://lichess.org/training/zgbfF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zgbpc', 'Classical', 'mohammad1983', 1608, 'SasHa831', 1609, 'd4,d5,c4,e6,Nc3,c5,e3,Nf6,cxd5,cxd4,Qa4+,Bd7,Qxd4,exd5,Nxd5,Qa5+,Nc3,Nc6,Qd1,O-O-O,Bd2,Qb6,Qb3,Qxb3,axb3,Nb4,Rxa7,Kb8,Ra5,b6,Rg5,h6,Rg3,Nh5,Rf3,Bg4,Bc4,Bxf3,Nxf3,Nd3+,Ke2,Nb4,Bxf7,Nf6,e4,Bc5,Be3,Bxe3,Kxe3,Nc2+,Kf4,Rhf8,Bg6,Nd4,Nxd4,Rxd4,Ke3,Rd6,Bf5,g6,Bh3,Rfd8,f3,g5,Bf5,Rd3+,Kf2,Nh5,e5,Rd2+,Ke3,Nf4,g3', 'Ng2+,Ke4,R8d4#', 'https://lichess.org/training/Zgbpc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zgbzJ', 'Rapid', 'Dekdyl', 1706, 'bsk64', 1852, 'd4,d5,Nf3,c6,Bf4,Nd7,e3,Ngf6,c4,Ne4,Bd3,Ndf6,O-O,Bg4,h3,Bh5,Be2,e6,cxd5,exd5,Nc3,Be7,Nh2,Bg6,f3,Nxc3,bxc3,Nh5,Bd3,O-O,Bxg6,hxg6,Ng4,g5,Bh2,Bd6,Ne5,f6,Ng6,Bxh2+,Kxh2,Qd6+,f4,gxf4,Qxh5,fxe3+,Kh1,Rfe8,Rae1,Rad8,g4,Qg3,Rg1,Qf3+,Kh2,e2,Nh4,Qf2+,Kh1,Re3,Ng2,Qg3,Nxe3,Qxe3,g5,Qe4+,Kh2,Qf4+,Kg2,Re8,gxf6,Re3,f7+,Kf8,Qh8+,Kxf7,Qh5+,Ke7,Qg6', 'Qf3+,Kh2,Qxh3#', 'https://lichess.org/training/zgbzJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zgcnq', 'Rapid', 'rvidapu4', 1610, 'Blanchess', 1635, 'e4,d5,exd5,Nf6,Bc4,Nxd5,Nf3,e6,O-O,Bc5,d4,Bb6,Bg5,Nf6,c3,O-O,Nbd2,c6,Qe2,Bc7,Ne5,Nbd7,Bd3,Nxe5,dxe5,Bxe5,Qxe5,Qxd3,Bxf6,gxf6,Qxf6,Qxd2,Rad1,Qxb2,Rd4,e5,Qxe5,Be6,h3,Rad8,Qg5+,Kh8,Qf6+,Kg8,Rf4,Qc2,Rf3,Rfe8,Rg3+,Kf8,Qg7+,Ke7,Qg5+,Kd7,Qc5,b6,Qd4+,Kc7,Qe5+,Kb7,Re1,Rd1,f4,Rxe1+,Qxe1,Bd7,Qf1,Qd2,Kh2,Re1,Qf3,Qd1,Qxd1,Rxd1,Rg7,Be6,Rxh7,Rc1,f5,Bd5,f6,Rxc3,g4,Rc2+,Kg3,Rg2+,Kf4,c5,g5,c4,Ke5,Be6,h4,c3,h5,c2,g6,c1=Q,gxf7,Qc3+,Kxe6,Re2+,Kf5,Qf3+,Kg6,Qe4+', 'Kg7,Rf2,f8=Q', 'https://lichess.org/training/Zgcnq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zgFtD', 'Bullet', 'elsombra', 2018, 'Aboali223', 1994, 'd4,e5,dxe5,d6,Nf3,Nc6,Bg5,f6,exf6,Nxf6,e3,Bg4,Nbd2,Be7,Be2,Qd7,c3,O-O-O,b4,h6,Bh4,g5,Bg3,Rdg8,a4,h5,h4,Nd5,Qc2,Bf5,e4,Nf4,Bxf4,gxf4,exf5,Rxg2,O-O-O,Rxf2,Rde1,Bf6,Bb5,Qf7,Bxc6,bxc6,Re6,Rg8,Rhe1,Rgg2,Qd3,Bxh4,Re8+,Bd8,Qa6+,Kd7,Qd3,Qa2,Qc2,Qa1+,Qb1,Qxc3+,Qc2,Qa1+,Qb1,Qa3+,Qb2,Qxb2+,Kxb2,Rxd2+,Nxd2,Rxd2+,Kc3,Ra2,a5,Bf6+,Kc4,Rc2+,Kb3,Rb2+,Ka3,Rc2,Rf8,Be5,Rg1,f3,Rg6,f2,Rh6,f1=Q', 'Rh7+,Bg7,Rxg7#', 'https://lichess.org/training/zgFtD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zgFUC', 'Classical', 'aajones', 1674, 'cube_824', 1651, 'e4,e5,Bc4,Nf6,Nf3,Nc6,d3,d5,exd5,Nxd5,Nc3,Bb4,Bd2,Nxc3,bxc3,Bd6,Ng5,O-O,Qh5,h6,Bxf7+,Kh8,Nf3,Qf6,Bg6,Ne7,Bxh6', 'Qxg6,Qxg6,Nxg6', 'https://lichess.org/training/zgFUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zgFvf', 'Rapid', 'tajd', 1663, 'Ntbio', 1652, 'c4,e6,Nc3,d6,g3,a6,Bg2,e5,e3,h6,Nge2,Nf6,O-O,Be7,d4,exd4,exd4,O-O,Re1,Re8,Nf4,Nh7,Qh5,Bg5,Bd2,Nf6,Qd1,Nc6,h4,Bxf4,Bxf4,Bg4,Qd2,Nh5,Bxh6,gxh6,Qxh6,Qf6,Qc1,Nxd4,Nd5,Rxe1+,Qxe1,Qg7,Qe4,c5,Re1,Nf6', 'Nxf6+,Qxf6,Qxg4+', 'https://lichess.org/training/zgFvf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZGGex', 'Blitz', 'alfileres', 1562, 'Gibasz', 1591, 'e4,d5,e5,Bf5,d4,e6,Bd3,c5,Bxf5,exf5,c3,Nc6,Nf3,cxd4,cxd4,Bb4+,Bd2,Nge7,O-O,O-O,a3,Ba5,b4,Bb6,Be3,a5,Nc3,axb4,axb4,Rxa1,Qxa1,Bxd4,Bxd4,Nxd4,Nxd4,Ng6,Nf3,d4,Rd1,dxc3,Rxd8,Rxd8,h3', 'c2,Nd4,Rxd4,Qxd4,c1=Q+', 'https://lichess.org/training/ZGGex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zGIdK', 'Blitz', 'Rise', 2228, 'IM MeneerMandje', 2333, 'g3,h5,Nf3,b6,e4,Bb7,Nc3,e6,d4,Bb4,Qe2,Nf6,Bg5,Be7,Bg2,d5,exd5,Nxd5,Bxe7,Qxe7,O-O,Nd7,Nb5,h4,Nxc7+,Nxc7,Nxh4,Bxg2,Nxg2,Nf6,Qf3,Qd7,c3,Qd5,Qe2,O-O-O,a4,Qe4,Qd1,Rh3,Nf4,Rxh2,Kxh2,Rh8+,Nh3,Ng4+,Qxg4,Qxg4,Kg2,Qxh3+,Kf3,Qh1+,Rxh1,Rd8,Rh4,g6,Rah1,Kd7,Rh8,Ke7,Rxd8,Kxd8,Rf1,Ke7,Ke3,Nd5+,Kd2,Nf6,f4,Nd7,Kd3,f5,g4,Kd6,Rg1,Nf6,g5,Ne4,Rh1', 'Nf2+,Ke3,Nxh1,c4,Ng3', 'https://lichess.org/training/zGIdK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zGk6r', 'Rapid', 'KOT_MATPOC', 1708, 'Gurkhey', 1648, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,d3,Na5,Bb3,Nxb3,axb3,O-O,Nc3,d6,h3,c6,Ne2,Nh5,Ng3,Nxg3,fxg3,f5,exf5,Bxf5,Be3,b6,Qe2,e4,dxe4,Bxe4,c3,d5,b4,Bxf3,Rxf3,c5,bxc5,Bxc5,Bxc5,bxc5,Qe6+,Kh8,Rxf8+,Qxf8,Qxd5,Rd8,Rf1', 'Qxf1+,Kxf1,Rxd5', 'https://lichess.org/training/zGk6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zGkVx', 'Rapid', 'Leduard2007', 2427, 'erfankhann', 2650, 'd4,Nf6,Bf4,c5,d5,b5,a4,Bb7,axb5,Nxd5,Bxb8,Qxb8,c4,Nb6,e3,g6,Nc3,Bg7,Nf3,O-O,Bd3,d5,cxd5,Nxd5,Nxd5,Bxd5,Qe2,c4,Bxc4,Bxc4,Qxc4,Bxb2,Ra6,Qb7,O-O,Rfb8,Rb1,Bf6,Rc6,Qd7,g3,h5,Kg2,Kg7,Rc7,Qf5,Rb4,h4,e4', 'h3+,Kf1,Qxf3', 'https://lichess.org/training/zGkVx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZgLct', 'Rapid', 'bekircelik06', 1810, 'dkol', 1815, 'd4,f5,g3,Nf6,Bg2,e6,Nf3,Be7,b3,O-O,Bb2,d6,Nbd2,Qe8,c4,a5,Qc2,Na6,a3,c5,dxc5,Nxc5,O-O,e5,Nh4,Ng4,Bd5+,Kh8,Ng2,Bg5,Nf3,Bf6,Rad1,e4,Bxf6,Rxf6,Nd4,Qh5,h4,g5,f3,Ne5,fxe4,f4,hxg5,fxg3,Rxf6', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/ZgLct');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZGLS8', 'Classical', 'Shantan-u', 1783, 'leopold2016', 1646, 'e4,c5,c3,Nf6,e5,Nd5,Bc4,e6,Bxd5,exd5,d4,c4,Nf3,d6,O-O,Bg4,Re1,Nc6,exd6+,Be6,Ng5,Qxd6,Nxe6,fxe6,Na3,Be7,Nb5,Qd7,Rxe6,a6,Bg5,Qxe6', 'Nc7+,Kd7,Nxe6', 'https://lichess.org/training/ZGLS8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zGlXS', 'Rapid', 'Bojanov', 1823, 'biglearning', 1936, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,h3,Be6,Nf3,Bd6,d3,O-O,Bg5,c5,O-O,Nbd7,Nc3,Rb8,Nb5,Be7,a4,a6,Nc3,h6,Bh4,d4,Bxe6,fxe6,Bxf6,Nxf6,Ne2,Nd5,Ne5,Bh4,Ng3,Qf6,Nd7,Qf4,Nxb8,Bxg3,fxg3,Qe3+,Kh1,Rxb8,Qf3,Qd2,Rf2,Qg5,Qf7+,Kh8,Qxe6,Ne3,Qe5,Qg6,Qf4,Re8,Re1,Kh7,h4,Nxg2,Rxe8', 'Nxf4,Rxf4,Qxe8', 'https://lichess.org/training/zGlXS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zgmW5', 'Blitz', 'VILenin', 1891, 'Maxiu', 1832, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,d3,Nh6,Be2,Nf5,c3,Qb6,b3,Bd7,O-O,d4,c4,Ne3,Bxe3,dxe3,Qc1,Nb4,Nc3,a6,a3,Nc6,Rb1,Na5,Bd1,Qc7,Qxe3,b6,b4,cxb4,axb4,Nc6,Ne4,Nxb4,d4,a5,Bb3,Be7,Neg5,Bxg5,Nxg5,h6,Nh3,O-O,Qg3,b5,Nf2,bxc4,Rbc1,Bb5,Ng4,h5,Nf6+,Kh8,Nxh5,g6,Nf6,Kg7,f5,Qd8,Bd1,Qxd4+,Kh1,exf5,Rxf5,Qd2,Nh5+,Kh6,Qh3,Qxc1', 'Nf6+,Kg7,Qh7#', 'https://lichess.org/training/zgmW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zgO9h', 'Blitz', 'Mrf277', 1635, 'Thoim', 1647, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nf3,Nc6,d5,Ne5,Nxe5,dxe5,Nc3,Bc5,Be2,O-O,O-O,Bf5,Na4,Bd4,Nxb6,axb6,Bd3,Bxd3,Qxd3,Re8,Re1,c6,Be3,cxd5,Bxd4,exd4,Qxd4,dxc4,Rxe8+,Qxe8,Qxb6,Qd7,a4,Rd8,h3,Qd2,Qxb7,g6,a5,c3,bxc3,Qxc3,Qb1,Ra8,a6,Qc6,Qb7', 'Qxb7,axb7,Rxa1+,Kh2,Rb1', 'https://lichess.org/training/zgO9h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zgog9', 'Rapid', 'Stavros', 1765, 'mario2punto0', 1862, 'd4,Nf6,Nf3,c5,e3,e6,h3,cxd4,exd4,Nc6,c4,Bb4+,Nc3,O-O,a3,Bxc3+,bxc3,b6,Qc2,Bb7,Ne5,Nxe5,dxe5,Ne4,Bd3,Qh4,O-O,f5,f3,Nc5,Be2,f4,Rb1,Rf5,Bd2,Rg5,Be1,Qxh3,Rf2,Qh6,Rf1,Rh5,Kf2,Rh2,Rg1,Qg5,Bd2,Qxe5,Qc1,g5,Qf1,g4,fxg4,Ne4+,Ke1,Ng3,Qf2,Qxe2+,Qxe2,Nxe2,Kxe2,Bxg2,Bxf4,Be4+', 'Bxh2,Bxb1,Rxb1', 'https://lichess.org/training/zgog9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zGOjs', 'Blitz', 'FM david_gomez', 2574, 'wangjiamao', 2610, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Be2,e5,O-O,Nc6,d5,Ne7,b4,a5,bxa5,Rxa5,a4,Re8,Ba3,c5,dxc6,Nxc6,Bxd6,Nd4,Bb4,Ra8,h3,Be6,Bd3,Rc8,Nd5,Nxf3+,Qxf3,Bxd5,cxd5,Nxd5,exd5,e4,Bxe4,Bxa1,Rxa1,Rc4,d6,Rexe4,Ba3,Rxa4,Rb1,Qd7,Rc1,Rac4,Rb1,b5,Rd1,Rcd4', 'Rxd4,Rxd4,Qa8+,Kg7,Bb2', 'https://lichess.org/training/zGOjs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZGP6x', 'Blitz', 'abgeolog', 1847, 'douglas221108', 1790, 'e4,c5,Nf3,Nc6,Nc3,g6,Bb5,d6,O-O,Bg7,a3,Bd7,h3,Nf6,Re1,O-O,Bxc6,Bxc6,e5,dxe5,Nxe5,Rc8,Nxc6,Rxc6,d3,Rd6,Rb1,c4,Qf3,cxd3,cxd3,Rd7,Bg5,b6,Rbd1,h6,Bh4,g5,Bg3,Qc8,Be5,Rfd8,Ne4,Nxe4,Bxg7,Nxf2,Qxf2,Kxg7,Re3,Qa6,Rf1,f6', 'Rxe7+,Rxe7,Qxf6+,Kg8,Qxe7', 'https://lichess.org/training/ZGP6x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zgqcp', 'Blitz', 'Pishurka', 2097, 'CM Faulitemporary', 2212, 'Nf3,b5,e3,a6,d4,e6,c4,bxc4,Bxc4,Bb7,O-O,Nf6,Nc3,Be7,Re1,O-O,b3,d5,Be2,c5,Bb2,Nc6,Rc1,cxd4,Nxd4,Nxd4,Qxd4,Rc8,Na4,Bc6,Bxa6,Bxa4,Rxc8,Qa5,Rxf8+,Bxf8,Qxa4', 'Qxe1+,Bf1,Ne4,Qxe4,dxe4', 'https://lichess.org/training/zgqcp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZGQg1', 'Rapid', 'Feldhasi', 1750, 'belvo02', 1798, 'd4,d5,Nf3,Nf6,c4,dxc4,Nc3,Bg4,e4,e6,Bxc4,a6,h3,Bxf3,Qxf3,Nc6,d5,Nd4,Qd3,e5,f4,Bd6,fxe5,Bxe5,Be3,c5,b4,b6,bxc5,bxc5,O-O,O-O,Bxa6,Qa5,Bb7,Rab8,Bc6,Rb4,Bd2,Rbb8,Rf5,Nxf5,exf5,Bd4+,Kh1,Qb4,Nd1,Qb6,Rc1,Qc7,Ba4,Nxd5,Bb3,Nf6', 'Qxd4,cxd4,Rxc7', 'https://lichess.org/training/ZGQg1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zGqvr', 'Rapid', 'no_reverse_gear', 1670, 'Samarendranath', 1803, 'e4,c5,d4,e6,Nf3,cxd4,c3,dxc3,Nxc3,Bb4,Bc4,Nc6,O-O,Nf6,Bg5,h6,Bh4,Bxc3,bxc3,g5,Nxg5,hxg5,Bxg5,Ne5,Bb3,Rg8,h4,d6,f4,Ng6,e5,dxe5,Qxd8+,Kxd8,Bxf6+,Kc7,fxe5,Bd7,Rad1,Bc6,h5,Nf8,Rf2,Nh7,Be7,Ng5,Bd6+,Kb6,a4', 'Nh3+,Kf1,Nxf2,Kxf2,Rxg2+', 'https://lichess.org/training/zGqvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zGtex', 'Rapid', 'awoj123', 1833, 'tarekjrd', 1882, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Bb5,c6,Be2,Ngf6,Bg5,Be7,Nxf6+,Bxf6,Bxf6,Nxf6,Nf3,Qa5+,c3,Qb6,O-O,Qxb2,c4,Qa3,Ne5,O-O,Qc2,Qd6,Rfd1,Nd7,c5,Qc7,Nc4,b6,Nd6,e5,dxe5,Nxc5,Bf3,Bb7,Rd4,Rab8,Rh4,g6,Qd2,f6,Nxb7,Rxb7,Qd6,Qxd6,exd6,Rc8,Rd1,Rd7,Rhd4,f5,Re1,Rcd8,Bxc6,Rxd6,Rxd6,Rxd6,Bb5,a6,Bf1,Ne4,f3,Nc3,Bxa6,Nxa2', 'Bc4+,Kg7,Bxa2', 'https://lichess.org/training/zGtex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zGtod', 'Rapid', 'meelis', 1647, 'AndrexGrove', 1632, 'e4,d6,Nf3,Nd7,Nc3,a6,Bc4,Ngf6,d3,c5,a3,Qc7,Bg5,g6,h3,Bg7,O-O,O-O,Nh2,Re8,Ng4,Nxg4,Nd5,Qd8,Qxg4,Nb6,Qf3,Nxd5,Bxd5,Be6,Bxb7,Rb8,Bxa6,Bxb2,Rab1,Qc7,c4,Bxa3,Bb5,Rf8,Bd2,f5,Bh6,Rf7,exf5,Bxf5,Qe3,e6,d4,Bxb1,Qxa3,Be4,Re1,d5,dxc5,Qe5,f3,Qd4+,Kh1,Bf5,g4,Qd3,Qxd3,Bxd3,Rxe6,dxc4,c6,Rxf3', 'c7,Rc8,Re8+,Rxe8,Bxe8', 'https://lichess.org/training/zGtod');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zGvav', 'Blitz', 'IM Odirovski', 2526, 'IM catalan-maestro', 2604, 'Nf3,d5,d4,Nf6,Bg5,Nbd7,Nbd2,h6,Bf4,e6,e3,Nh5,Be5,Nxe5,Nxe5,Nf6,Bd3,Be7,f4,O-O,O-O,Nd7,Rf3,Nxe5,fxe5,f5,g4,c5,c3,Qb6,Rb1,f4,Qe2,fxe3,Rxf8+,Bxf8,Qxe3,cxd4,cxd4,Bd7,Nf3,Be7,g5,hxg5,Kh1,Rf8,Nxg5,Bxg5,Qxg5,Qxd4,Qg6,Rf2,Rg1,Qxe5,Qh7+,Kf8,Qh8+,Ke7', 'Rxg7+,Qxg7,Qxg7+', 'https://lichess.org/training/zGvav');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZgXND', 'Blitz', 'diztiinct', 2189, 'Beshemot', 2182, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Nf6,Nc3,a6,e3,b5,Bd3,Bb7,Nf3,Nbd7,O-O,e6,Ne5,Nb6,b3,Bd6,Rc1,O-O,Bg5,h6,Bh4,g5,Bg3,Ne4,Nxe4,dxe4,Be2,Nd5,a4,bxa4,bxa4,Ne7,Bc4,Bd5,Qh5,Kg7,Ng4,Nf5,Be5+,Bxe5,dxe5,Bxc4,Rxc4,Rh8,Rxe4,Qd3,Rb4,Rac8,Nf6,Qc3,Rg4,Qxe5,Nd7,Qd6', 'Rxg5+,hxg5,Qxg5+,Kh7,Nf6#', 'https://lichess.org/training/ZgXND');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZGY6m', 'Blitz', 'PupiloMito', 2366, 'Dikarkaz', 2360, 'c4,Nf6,Nc3,e5,Nf3,Nc6,Qc2,Bb4,e3,d6,a3,Bxc3,Qxc3,O-O,d3,Bg4,Be2,e4,dxe4,Nxe4,Qc2,Ng5,Nxg5,Qxg5,Bxg4,Qxg4,O-O,Rfe8,h3,Qh4,b3,Re6,Bb2,Rg6,Kh2,Re8,Rae1,Re4,g3,Qe7,Re2,h5,Qd3,h4,g4,f5,f3,Re5,gxf5,Rg3,Bxe5,dxe5,Qe4,Qg5,f4', 'Rxh3+,Kxh3,Qg3#', 'https://lichess.org/training/ZGY6m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZGz1o', 'Rapid', 'Orion2020', 1731, 'Castrum7', 1737, 'd4,d5,Bf4,e6,Nf3,a6,e3,h6,Nbd2,Bd6,Ne5,Nd7,Ndf3,Ngf6,c3,Ne4,Bd3,Bxe5,Nxe5,Nef6,Qc2,Qe7,Nxf7,Qxf7,Bg6,Ne4,Bxf7+,Kxf7,f3,Nef6,Bxc7,Re8,O-O,Kg8,e4,dxe4,fxe4,Nf8,e5,Nd5,Bd6,Bd7,Bxf8,Rxf8,Rxf8+,Rxf8,Rf1', 'Rxf1+,Kxf1,Ne3+,Ke1,Nxc2+', 'https://lichess.org/training/ZGz1o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zgzci', 'Blitz', 'Elit3', 1521, 'makman', 1512, 'e4,Nf6,Nf3,d6,d4,Bg4,Qd3,a6,Be2,e6,h3,Bxf3,Bxf3,Be7,O-O,Nbd7,c4,O-O,Re1,e5,dxe5,Nxe5,Qc3,c5,Bf4,Qc7,Nd2,Rad8,Rad1,Nxf3+,Nxf3,Qc6,a3,Nxe4,Qe3,f5,g4,d5,cxd5,Rxd5,Rxd5,Qxd5,gxf5,Nf6,Qxe7,Qxf3,Bd6,Re8', 'Qxe8+,Nxe8,Rxe8+,Kf7,Rf8#', 'https://lichess.org/training/Zgzci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zh2pT', 'Rapid', 'eugenemika', 1775, 'Nicaragua11', 1710, 'e4,b6,Bc4,Bb7,d3,e6,Nf3,a6,a3,b5,Ba2,c5,h3,d6,O-O,Nd7,Nc3,Ne5,Nxe5,dxe5,Ne2,Nf6,Bg5,Be7,Bxf6,Bxf6,Ng3,Rc8,c3,c4,Qg4,g6,dxc4,bxc4,f4,Rc5,fxe5,Rxe5,Bxc4,Rg5,Qf3,Qc7,Qxf6,Rxg3,Qxh8+,Ke7,Qd4,h5,Bd3,e5,Qf2,Rxd3,Qxf7+,Kd6,Qxg6+,Kc5,Rad1,Qd7,Rxd3,Qxd3,Kh1,Bxe4,Qf6', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/zh2pT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zH2Xs', 'Blitz', 'princeajay', 1675, 'Jamiruddin', 2110, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,Nc3,Nf6,Bc4,O-O,Qd2,Nxd4,Bxd4,a6,a3,b5,Ba2,Qa5,f3,b4,axb4,Qxb4,Ne2,Qb5,O-O,e5,c4,Qc6,Bxe5,Bb7,Qc3,d6,Bxf6,Bxf6,Qxf6,Rae8,Nf4,Re5,Nd5,Qc5+,Kh1,Bxd5,cxd5,Qb6,h3,h5,Rfb1,Qe3,Qxd6,Rg5,Rg1,Rc8,Qxa6,Rc2,Qf1,Qf4,Rc1,Rxb2,Qd3,Rg3,Rc8+,Kh7,Qc3', 'Rxh3+,gxh3,Qh2#', 'https://lichess.org/training/zH2Xs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zH3B3', 'Rapid', 'jml1403', 1756, 'Tunisie-Sousse2016', 1933, 'd4,Nf6,c4,d5,Nf3,g6,Nc3,Bg7,Bf4,a6,a4,Nc6,e3,Bg4,cxd5,Nxd5,Qb3,Nxc3,Qxc3,O-O,Be2,Rc8,h3,Bd7,O-O,Na7,Qb3,b6,Rac1,Be6,d5,Bxd5,Qc2,a5,Ba6,Bxf3,gxf3,e5,Bxc8,exf4,Bb7,fxe3,Qxc7,Qg5+,Qg3,exf2+,Kxf2,Bd4+,Kg2,Qd2+,Kh1,Re8,Be4,Be5,Qf2,Qh6,Qg2,Kh8,Bd5,Rd8,Rfd1', 'Rxd5,Rxd5,Qxc1+', 'https://lichess.org/training/zH3B3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZH7bX', 'Rapid', 'dragoj48', 2079, 'mikolo73', 2169, 'e4,c6,d4,d5,e5,e6,c3,c5,Be3,cxd4,cxd4,Nc6,a3,Nge7,Bd3,Nf5,Bxf5,exf5,Nc3,Be6,Nf3,Qb6,Qd2,Be7,O-O,O-O,b4,Qc7,Rac1,a6,Ne2,f6,exf6,Bxf6,a4,Qd6,b5,Ne7,Bf4,Qa3,Ra1,Qb3,Rfb1,Qc4,Rb4,Qc8,Rc1,Qe8,bxa6,bxa6,Rc7,Rc8,Rbb7,Rxc7,Rxc7,Qa8,Qb4,Rc8,Qd6,Rxc7', 'Qxe6+,Kf8,Bxc7', 'https://lichess.org/training/ZH7bX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zh8hr', 'Rapid', 'XStevenX', 1919, 'AlixM', 1965, 'd4,d5,e3,Nf6,f4,Bf5,Nf3,e6,c3,c5,Be2,Nc6,O-O,Be7,Nbd2,O-O,Ne5,Ne4,Bf3,f6,Nxc6,bxc6,Nxe4,Bxe4,Bxe4,dxe4,Bd2,cxd4,exd4,f5,Qb3,Qd5,Qd1,c5,Be3,cxd4,Bxd4,Bf6,Bxf6,Rxf6,Qe2,Rb8,b3,Qc5+,Qf2,Qxc3,Qxa7,Rff8,Rac1,Qd2,Rc7,Qb2,Rfc1,Ra8,Qb6,Rxa2,Qxe6+', 'Kh8,R7c2,Qd4+,Kh1,Rxc2', 'https://lichess.org/training/zh8hr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zhc2d', 'Rapid', 'gilzzza', 1605, 'alecool2', 1652, 'd4,d5,c4,Nf6,Nc3,e6,Bd2,Bd6,e3,O-O,Bd3,e5,cxd5,exd4,exd4,Re8+,Nge2,Bg4,O-O,Bb4,Qb3,Bxc3,Bxc3', 'Bxe2,Bxe2,Rxe2', 'https://lichess.org/training/Zhc2d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZhcaW', 'Rapid', 'VAAIVL535', 1784, 'antonvv', 1763, 'd4,d5,Bf4,Nf6,e3,Bf5,Nc3,Nc6,Nb5,Rc8,Nf3,a6,Nc3,e6,Nh4,Bg6,Nxg6,hxg6,Bd3,Bd6,Ne2,Bxf4,Nxf4,g5,Ne2,Ne4,f3,Nf6,c3,Qd6,h3,Nh5,Kf2,f5,Qc2,Ke7,Rag1,f4,e4,dxe4,Bxe4,Ng3,Nxg3,fxg3+,Ke2,b5,Kd1,Na5,b3,c5,d5,exd5,Bf5,Rce8,Re1+,Kf7,Kc1,Rxe1+,Rxe1,Qf4+,Kb2,d4,Bg6+,Kf6,Re4,dxc3+', 'Qxc3+,Kxg6,Rxf4', 'https://lichess.org/training/ZhcaW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhcLG', 'Blitz', 'FM WelshTiger', 2419, 'Levchik_na_URFO', 2413, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,g6,Nf3,Bg7,O-O,O-O,Re1,Nc6,Bf4,Bf5,Na3,e6,Nc2,Re8,Ne3,Bxd3,Qxd3,Ne4,Ng4,h5,Nge5,Nxe5,Bxe5,f6,Bf4,g5,Be3,g4,Nd2,f5,f3,Nxd2,Qxd2,Kh7,Bf4,Rg8,fxg4,hxg4,Rxe6,Qh4,g3,Qh5,Rae1,Rae8,Qd3,Qf7,Rxe8,Rxe8,Rxe8,Qxe8,Qxf5+,Kg8,Qxd5+,Kh8,Kf2,Qa4,Qb3,Qc6,d5,Qc5+,Be3,Qf8+,Bf4,Qc5+,Ke2,Qg1,Qxb7,Qxh2+,Kd3,Qg2,Qc8+,Kh7,Qf5+,Kg8,Kc4,Qe2+,Kc5,Qxb2,d6,Qxc3+,Kb5,Qb2+,Kc6,Qb6+,Kd7,Qb7+,Ke6,Qc6,Qf7+,Kh8,Qh5+,Kg8,Qxg4,Qe8+,Kd5,Qb5+,Ke4,Qa4+,Kd5,Qb5+,Ke6,Qe8+,Kf5,Qf7+,Kg5,Bf6+,Kh6+,Kf8,Qg6,Bg7+,Kh7', 'Qg8#', 'https://lichess.org/training/zhcLG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zHcyc', 'Blitz', 'Mat_t_22', 1909, 'FM PJatoba', 2415, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Nc3,e4,Ng1,Bc5,Nge2,Rf8,O-O,Kg8,d4,exd3,Qxd3,Be6,Be3,Bd6,Nb5,Be5,Nbd4,Bd7,c3,Qh4,Ng3,Rae8,Rad1,Nxd4,Bxd4,Bxd4,cxd4,c6,a4,Rf6,Rde1,Ref8,Re3,Rh6,h3,Bxh3,gxh3,Qxh3,Rfe1', 'Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/zHcyc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zHdHA', 'Bullet', 'Jonny_Jansson', 1507, 'Silvester42', 1520, 'Nf3,d5,c4,c6,cxd5,cxd5,d4,e6,Bf4,f5,h3,Nd7,g4,Ngf6,gxf5,exf5,Qc2,Ne4,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Nd2,Nxd2,Kxd2,Nb6,Rg1,Nc4+,Kd1,Qh4,Be5,Qxf2', 'Rxg7+,Kh8,Rg2+,Nxe5,Rxf2', 'https://lichess.org/training/zHdHA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zHDMP', 'Blitz', 'KzkvVdm', 1613, 'fogfrogy', 1615, 'Nc3,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,O-O-O,O-O,e4,d6,Nd5,Nxd5,Bxe7,Nxe7,e5,Nc6,Qc3,Nxe5,f4,Nc6,h3,Bd7,g4,a6,g5,Bf5,h4,f6,Bc4+,Kh8,h5,fxg5,h6,Qf6,hxg7+,Qxg7,Qf3,g4,Qg3,Rae8,Rd5,Be4,Rg5,Qd4,Bd5,Bxd5', 'Rxh7+,Kxh7,Qh2#', 'https://lichess.org/training/zHDMP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zHE3B', 'Rapid', 'THG_SANTOS', 1796, 'yahya17', 1828, 'e4,e5,Nf3,Nc6,d4,d5,Nc3,dxe4,Nxe4,Bg4,Be2,exd4,Nxd4,Bxe2,Qxe2,Qxd4', 'Nf6+,Kd8,Qe8#', 'https://lichess.org/training/zHE3B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhFcg', 'Rapid', 'wysockilowicz', 1822, 'dustychessnotebooks', 1902, 'e4,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Nf3,f6,Bc4,Bc5,O-O,c6,a3,b5,Rd1+,Kc7,Bb3,Bg4,a4,b4,Rd3,a5,Nbd2,Nd7,h3,Bh5,Nh4,Be2,Rg3,g5,Nf5,h5,Re3,Bxe3,fxe3,Ba6,Ng7,Nc5,Bf7,Ne7,Bc4,Bxc4,Nxc4,Nxe4,Ne6+,Kb7,c3,Nd5,cxb4,Nxb4,b3,Rhe8,Ng7,Rg8,Nxh5,g4,hxg4,Rxg4,Bd2,Rh8,Nxf6,Nxf6,Nxe5,Rg7,Nc4,Rhg8,Nxa5+,Kb6,Bxb4,Rxg2+,Kh1,c5,Nc4+,Kc6,Bc3,R2g6,Ne5+,Kb6,Nxg6,Rxg6,Bxf6,Rxf6,Kg2,Rd6,Kf3,Rd3,Rb1,Ka5,Kf4,Kb4,e4,Rxb3,Rxb3+,Kxb3,Ke3', 'c4,a5,c3,a6,c2,Kd2,Kb2', 'https://lichess.org/training/zhFcg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhHY9', 'Rapid', 'ahmedturk', 1681, 'Mr35vn', 1632, 'e4,e5,Nf3,Nc6,d4,d6,d5,Nce7,Bd3,Bg4,h3,Bh5,Be2,Qd7,O-O,Bg6,Nc3,Nf6,Bd3,Nh5,Nh2,f6,Be2,Nf4,Bxf4,exf4,a3,b6,Nb5,Bxe4,c4,Bf5,Nd4,g6,Re1,Kf7,Ng4,Bg7,Bd3,Bxg4,hxg4,h5,gxh5,Rxh5,Ne6,Rah8,Kf1,f5,Nxf4,Rh2,Qf3,Bxb2,Rab1,Bc3,Rec1,Bd2,Rd1,Bc3,Nh3,Rh1+,Ke2,Rxd1,Rxd1,Qa4,Ng5+,Ke8,Rc1,Qxa3,Bxf5,Qxc1,Bxg6+,Nxg6', 'Qf7+,Kd8,Ne6+,Kc8,Qxc7#', 'https://lichess.org/training/zhHY9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhI8d', 'Rapid', 'F48', 2034, 'Allamuratov', 2094, 'e4,c5,c3,e6,Nf3,Nc6,Bb5,Nf6,d3,d5,e5,Nd7,Bxc6,bxc6,O-O,Qc7,d4,cxd4,cxd4,c5,Be3,cxd4,Bxd4,Ba6,Re1,Bc5,Nc3,Bxd4,Qxd4,Rb8,Rac1,Qb6,Na4', 'Qxd4,Nxd4,Rb4', 'https://lichess.org/training/zhI8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhIK5', 'Rapid', 'Drmohit', 1602, 'Rook17', 1813, 'e4,c5,f4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Nc6,Nc3,Qh5,O-O,e6,Ne4,Qg6,d3,Nf6,Nh4,Bxe2,Nxf6+', 'Qxf6,Qxe2,Qxh4', 'https://lichess.org/training/zhIK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhj9L', 'Rapid', 'Cakrabyuha', 2071, 'Benyamin_A', 2122, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,d6,d3,Nf6,g3,Be7,Bg2,a6,O-O,O-O,h3,Qc7,Qe2,b5,a4,b4,Nd1,Bb7,g4,Rfe8,f5,exf5,gxf5,Bd8,Bf4,Ne5,Nh2,Nc6,c3,Nd5,Bg3,bxc3,bxc3,Bf6,Qc2,Ndb4,Qe2,Nd4,Qb2,Nxd3,Qa2,Nc6,Ng4,Qe7,Nxf6+,Qxf6,Qb1,Nce5,Qxb7,Qg5,Bxe5,Nxe5,Qd5,Rab8,Kh2,Qh4,Qd2,Rb3,Qf2', 'Ng4+,Kg1,Nxf2', 'https://lichess.org/training/zhj9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZHjFv', 'Rapid', 'Guy_de_Vere', 1744, 'Banilla77', 1655, 'e4,Nf6,d3,d5,exd5,Nxd5,Nf3,Nc6,c4,Nf6,Be2,e5,O-O,Bc5,a3,O-O,b4,Bd4,Nxd4,Nxd4,Nd2,b6,Nf3,c5,Nxe5,Qe7,Bf4,Bg4,Bxg4,Nxg4,Nxg4,Ne2+,Kh1,Nxf4,Qf3,Qd6,bxc5,Qd4,cxb6,axb6,Rfd1,Rfd8,Ra2,Nxd3,Qg3', 'Nxf2+,Qxf2,Qxd1+', 'https://lichess.org/training/ZHjFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhjLp', 'Rapid', 'allaround', 2269, 'FM newbie87', 2361, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Bc4,O-O,Bb3,d6,f3,Bd7,Qd2,Rc8,O-O-O,Na5,h4,h5,g4,Nc4,Bxc4,Rxc4,gxh5,Nxh5,Rhg1,a6,Kb1,b5,f4,e6,f5,exf5,exf5,Bxd4,Bxd4,Bxf5,Qh6,Rxd4,Rxd4,Qb6,Rdd1,Qf2,Ka1,Bxc2,Rdf1,Qxh4,Nd5,Re8,Qxh5,Qxh5,Nf6+,Kf8,Nxh5,gxh5,Rg5,Bd3,Rfg1,Be2', 'Rg8+,Ke7,Rxe8+,Kxe8,Re1', 'https://lichess.org/training/zhjLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zhkze', 'Classical', 'dido14', 2104, 'lehi83', 2054, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nb5,d5,exd5,exd5,Qxd5,Qe7+,Be3,Be6,Qf3,O-O-O,Bd3,Qb4+,N5c3', 'Qxb2', 'https://lichess.org/training/Zhkze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zHlNk', 'Rapid', 'the_Blissful', 1715, 'Abi_Uchiha', 1694, 'd4,Nf6,c4,e6,Nc3,b6,e4,c6,Bd3,Bb7,Bg5,Bb4,e5,h6,exf6,hxg5,fxg7,Rg8,Qh5,Rxg7,Qh8+,Bf8,Ne4,Qc7,Nf6+,Ke7,Nh7,Na6', 'Nxf8,Rxf8,Qxg7', 'https://lichess.org/training/zHlNk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zhlvf', 'Classical', 'Miguelloz', 1658, 'Gonzalo_PR', 1617, 'c4,Nf6,g3,e6,Bg2,Be7,Nc3,d5,d3,Nc6,e4,dxe4,dxe4,Qxd1+,Nxd1,O-O,Ne2,Ne5,O-O,Nxc4,b3,Ne5,Bf4,Bd6,Ndc3,Bd7,Rad1,Rfd8,a4,a6,Nc1,Bc6,Rfe1,Ng6,e5,Bb4,N1e2,Nxf4,gxf4,Nd5,Rc1,Nxc3,Nxc3,Rd2,h4,b5,Bxc6,Rad8,axb5,axb5,Bxb5,R8d4,Re4,Bxc3,Rxd4,Bxd4,Rxc7,h5,Kh1,Bxf2,Rd7,Rb2,Bc4,Bxh4,f5,exf5,Rxf7,Kh7,Rxf5,Kg6,Rf3,Kg5,e6,Kg4,Rf1,Kh3,Bd5,Bf6,Kg1', 'Bd4+,Kh1,Rh2#', 'https://lichess.org/training/Zhlvf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhnvF', 'Rapid', 'Maikel-A', 1625, 'VAI-CORINTHIANS', 1698, 'd4,d5,c4,e5,f3,dxc4,dxe5,Qxd1+,Kxd1,Be6,Nc3,c6,e4,Bb4,Nge2,Ne7,a3,Bc5,Bf4,O-O,Kc2,b5,Rd1,a5,Nd4,Bxd4,Rxd4,b4,axb4,axb4,Nb1,c5,Rd1,Nbc6,Be3,b3+,Kc3,Rfd8,Rxd8+,Rxd8,Bxc5,Rd1,Na3,Ng6,Nxc4,Rc1+,Kd2,Bxc4', 'Kxc1,Bxf1,Rxf1', 'https://lichess.org/training/zhnvF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhoad', 'Classical', 'Ar99', 1903, 'valeri099', 1908, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,h3,h6,d3,Nf6,Be3,Bxe3,fxe3,O-O,O-O,Na5,Bb3,Nxb3,axb3,c5,Nd5,Nxd5,exd5,Bd7,e4,Qb6,Kh1,a6,Nh4,Qd8,Nf5,Bxf5,Rxf5,b5,Qf3,a5,Rf1,Qe7,Qg3,a4,bxa4,Rxa4,b3,Ra2,R1f2,Ra3,Qg4,f6,Rh5,Kh8,Qg6,b4,Kh2,Ra1,Rf3,Qf7', 'Rxh6+,gxh6,Qxh6+,Qh7,Qxf8+', 'https://lichess.org/training/zhoad');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZhoC0', 'Rapid', 'st11', 1933, 'tibping', 1808, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,Nf6,Bc4,e6,Qe2,h6,h5,Bh7,Ne5,Nd5,d4,Nd7,f4,Nxe5,fxe5,Bb4+,c3', 'Nxc3,bxc3,Bxc3+', 'https://lichess.org/training/ZhoC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhODO', 'Rapid', 'zhoporez', 1908, 'lferminicas', 1712, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,e3,Nbd7,Nf3,O-O,Rc1,Re8,Bd3,c5,O-O,cxd4,Nxd4,Nc5,Bb1,dxc4,Qc2,Nd3,Rcd1,e5,Rxd3,cxd3,Qxd3,g6,Ndb5,Qxd3,Bxd3,Bd8,Bxf6,Bxf6,Nc7,Rd8,Bc4,Rb8,Ne4,Be7,Nd5,Kf8,f4,exf4,Rxf4,b5,Bb3,h6,Nxe7,Kxe7', 'Rxf7+,Ke8,Nf6#', 'https://lichess.org/training/zhODO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zHOJZ', 'Blitz', 'daveverdejo1015', 1882, 'Momchi', 1910, 'd4,d5,c4,dxc4,Nf3,c6,e3,b5,a4,Bb7,Nc3,a6,b3,b4,Na2,cxb3,Nxb4,e5,Qxb3,exd4,Bc4,Qc7,exd4,Nf6,O-O,Bd6,Re1+,Kf8,Ba3,h6,Rab1,a5,Nd3,Bc8,Bxd6+,Qxd6,Bxf7,Bf5,Nfe5,Nbd7,Bg6,Be6,Nxd7+,Nxd7,Rxe6,Qd5,Qb8+,Rxb8', 'Rxb8+,Nxb8,Re8#', 'https://lichess.org/training/zHOJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZHpeK', 'Rapid', 'Alejandro369', 1870, 'palmipede84', 1793, 'e4,e5,Nf3,d6,c3,Nc6,Bc4,Na5,Bb5+,c6,Ba4,b5,Bc2,Nf6,O-O,Be7,a3,O-O,d4,Bb7,Bg5,h6,Bh4,exd4,cxd4,c5,d5,Nc4,b3,Ne5,Nc3,Re8,Nxb5,Nh5,Bxe7,Qxe7,Nxe5,Qxe5,Nc7,Nf4,Nxe8,Rxe8,g3,Ng6,b4,cxb4,axb4,a6,f4,Qc3,Rb1,Rc8,Bd3,Nf8,Rc1', 'Qd4+,Rf2,Rxc1,Qxc1,Qxd3', 'https://lichess.org/training/ZHpeK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZHQ6p', 'Rapid', 'Tagere', 1626, 'hapne', 1696, 'e4,e5,Nf3,Nc6,d4,d6,d5,Na5,Nc3,Be7,Be3,b6,Be2,Nf6,h3,Bb7,Bb5+,Nd7,O-O,O-O,Na4,a6,Bd3,Nf6,c4,Bc8,b4,Nb7,Nc3,Bd7,Ng5,h6,Nf3,Qc8,Nd2,Bxh3,gxh3,Qxh3,Be2,a5,b5,Nc5,Nb3,Ncxe4,Nxe4,Nxe4,Bg4,Qh4,Qf3,Ng5,Bxg5,Qxg5,Qf5,Qh4,Qh5,f5,Qxh4,Bxh4,Be2,f4,Nd2,Rf5,Nf3,Bf6,Bd3,Rh5,Bg6,Rh3,Kg2,Rxf3,Kxf3,e4+,Bxe4,Bxa1,Rxa1,g5,Rh1,Kg7,Kg4,Re8,Kf5', 'Re5+,Kg4,Rxe4', 'https://lichess.org/training/ZHQ6p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zHRee', 'Rapid', 'farrokh456', 1947, 'Just-passenger', 1781, 'e4,e5,Nf3,Nc6,Bb5,f6,Nc3,a6,Bc4,Nge7,O-O,Na5,Bb3,Nxb3,axb3,d5,exd5,Nxd5,d4,Nxc3,bxc3,exd4,Re1+,Be7,cxd4,O-O,c4,Bb4,Bd2,Bd6,d5,Bg4,h3,Bh5,g4,Bg6,Nh4,Bf7,Nf5,Bc5,Be3,Bd6,Qd3,Be5,Bd4,Bg6,Bxe5,fxe5,Rxe5,Qg5,Ne7+', 'Qxe7,Rxe7,Bxd3', 'https://lichess.org/training/zHRee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZHsVs', 'Rapid', 'luisito84', 2232, 'PESADITO', 2139, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,O-O,O-O,Be3,Be6,f4,Nbd7,f5,Bxb3,axb3,Nc5,Bxc5,dxc5,Bf3,Qd4+,Qxd4,cxd4,Nd5,Nxd5,exd5,Bc5,Kh1,f6,c4,Rfe8,d6,Rab8,Bd5+,Kf8,d7,Red8,Be6,Ke7,Ra5,Bb4,Rd5,a5,h4,b6,g4,Bc5,g5,e4,gxf6+,Kxf6,Rf4,e3,Re4,h5,Kg2,Ra8,Kf3,Ra7,Bg8,Rxg8,Re6+,Kf7,d8=Q,Rxd8,Rxd8,Re7,Rxe7+,Kxe7,Rd5,Kf6,Ke2,g5,hxg5+,Kxg5,f6+,Kxf6,Rxh5,Ke6,Kd3,Kd6,Ke4', 'e2,Rh1,Bb4', 'https://lichess.org/training/ZHsVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhTl7', 'Rapid', 'sepehr36', 1718, 'FunnyBunny95', 1829, 'd4,d5,Nf3,Nf6,e3,e6,Nbd2,Bd6,a3,Nbd7,c4,c5,dxc5,Nxc5,b4,Nce4,c5,Bc7,Bb2,O-O,Nxe4,Nxe4,Rc1,a6,Be5,Bd7,Bxc7,Qxc7,Qd4,Rfd8,Bd3,Nf6,O-O,Bb5,Qe5,Qc6,Nd4,Qd7,Nxb5,axb5,Ra1,Qc6,h3,Nd7,Qh5,Nf6,Qe2,Ne4,Bxb5', 'Nc3,Qb2,Nxb5', 'https://lichess.org/training/zhTl7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZhTlm', 'Rapid', 'Spartano', 1720, 'philidov', 1699, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Re1,O-O,c3,d6,h3,Na5,Bb5,c6,Ba4,b5,Bc2,Nc4,b3,Nb6,d4,exd4,cxd4,c5,d5,Nbd7,Bb2,h6,Nbd2,Nh7,Nf1,Ng5,Ng3,Nxf3+,Qxf3,Bf6,Bxf6,Nxf6,Nf5,a5,Re3,a4,Qg3,Bxf5,exf5,axb3,Bxb3,c4,Bc2,b4,Ree1,Ra3,Qh4,Rc3,Be4,b3,axb3,Rxb3,Bf3,c3,Qc4,Qb8,Rec1,Rc8,Qe2,Rb2,Rc2,Rxc2,Qxc2,Qb2,Rc1,Nd7', 'Qxb2,cxb2,Rxc8+,Kh7,Be4', 'https://lichess.org/training/ZhTlm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhtNH', 'Rapid', 'Mikhil-k', 1979, 'ilyesoo', 2132, 'c4,e5,Nc3,Nc6,Nf3,Bc5,e3,Qf6,Nd5,Qf5,Nxc7+,Kd8,Nxa8,d6,d4,Qf6,dxe5,Nxe5,Nxe5,Qxe5,Qf3,Bb4+,Bd2', 'Bxd2+,Kxd2,Qxb2+', 'https://lichess.org/training/zhtNH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhUDd', 'Rapid', 'BROOKLYN2011', 1835, 'queensny', 1924, 'e4,c5,Nf3,Nc6,Bb5,e6,Nc3,a6,Be2,d5,exd5,exd5,d4,cxd4,Nxd4,Bc5,Nxc6,bxc6,O-O,Nf6,Bd3,O-O,Be3,d4,Na4,dxe3,Nxc5,exf2+,Rxf2,Ng4,Rf4,Qd6', 'Bxh7+,Kxh7,Qxd6', 'https://lichess.org/training/zhUDd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZhWhM', 'Rapid', 'FatDevil', 1791, 'rnunesmagalhaes', 1755, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Bb4,Bg5,O-O,e3,c6,a3,Bd6,c5,Bc7,b4,Nbd7,Bd3,h6,Bh4,e5,dxe5,Nxe5,Nxe5,Bxe5,Qc2,Qc7,Bg3,Bxg3,hxg3,Bg4,f3,Qxg3+,Kf1,Bxf3,Rh3,Qg4,Rxf3,Rfe8,Re1,d4,exd4,Rxe1+,Kxe1,Qxd4,Ne2,Qa1+,Qc1,Qe5,Re3,Qh2,Rg3,Re8,Kf2,Qh4,Qf4', 'Rxe2+,Kxe2,Qxf4', 'https://lichess.org/training/ZhWhM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zhwki', 'Rapid', 'vanya_033', 1986, 'prafultewari', 1848, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,O-O,Nf6,Nxe5,Nxe5,d4,Bxd4,Qxd4,d6,Bg5,h6,Bh4,g5,Bg3,Qe7,a3,c5,Qe3,Bb7,Nc3,O-O,f4,gxf4,Qxf4,Nh7,Qxh6,c4,Ba2,Rad8,b3,Qg5,Qh5,Qxh5,Rf5,Qg6,Raf1,Ng5,Bh4,Ne6,bxc4,Nxc4,Nd5,Qg4', 'Nf6+,Kg7,Nxg4', 'https://lichess.org/training/Zhwki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zHwLo', 'Blitz', 'Igniov', 2003, 'sdv1980', 2106, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Bg4,Be2,e6,O-O,Be7,c4,Nb6,Nc3,O-O,b3,c5,dxc5,N6d7,Bb2,Nc6,Qc2,Nxc5,Rad1,Qa5,Nd4,Nxd4,Rxd4,Bf5,Qc1,Rad8,Rfd1,h6,Rxd8,Rxd8,Rxd8+,Bxd8,Qd1,Bf6,Qd2,g5,Bd1,Nd3,Ba1,Bd4,Be2,Qe5,Bxd3,Bxd3,Qxd3', 'Qe1+,Qf1,Bxf2+,Kh1,Qxf1#', 'https://lichess.org/training/zHwLo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZhX2J', 'Blitz', 'SirSirTid', 1839, 'DC963', 1857, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,f3,Rb8,Qd2,d6,O-O-O,h6,g4,a6,h4,Ne5,h5,g5,Be2,b5,Nf5,Bxf5,gxf5,Qa5,Kb1,O-O,Bxg5,hxg5,Qxg5,Nh7,Qg2,Kh8,Nd5,Nc4,Bxc4,bxc4,Rdg1,Rxb2+,Kc1,Bh6+,Kd1,Qxa2,Ne3,Qa1+,Ke2,Qa2,f4,c3,Kf3,Qa5,Nd5,Qa4,Nxe7,Rxc2', 'Qg8+,Rxg8,Rxg8#', 'https://lichess.org/training/ZhX2J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zHXIX', 'Rapid', 'apostrov13', 1604, 'udlakshaya1212', 1744, 'e4,e6,Nf3,d5,exd5,exd5,b3,c6,Bb2,Nf6,Bd3,Bc5,Qe2+,Qe7,Bxf6,Qxe2+,Bxe2,gxf6,O-O,Rg8,d4,Bb6,c4,Bh3,Re1,Bxg2', 'Bf1+,Kf8,Bxg2', 'https://lichess.org/training/zHXIX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zhY2Z', 'Rapid', 'LargeUnitOfMass', 1812, 'trashpandakyoot', 1751, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,Nf3,Qxg2,Nxd4,Qxh1+,Ke2,Qxe4+,Kf1,Qxd4,d3,Bc5,Be3,Qxb2,Qh5,Bxe3', 'Qxf7+,Kd8,Qf8#', 'https://lichess.org/training/zhY2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zHZdx', 'Rapid', 'hry1355', 1758, 'aperturadragon', 1603, 'e4,e5,f4,Nc6,Nf3,d6,Bb5,Bd7,d3,Nd4,Bxd7+,Qxd7,O-O,Nxf3+,Qxf3,O-O-O,fxe5,dxe5,Qxf7,Qd4+,Kh1,Nf6,Bg5,Qxb2,Nd2,Qxc2,Nc4,Qxd3,Nxe5,Qxe4,Bxf6,gxf6,Qxf6,Bd6,Nf7,Rhf8', 'Nxd6+,Rxd6,Qxf8+', 'https://lichess.org/training/zHZdx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zhzh8', 'Blitz', 'yannis197', 2192, 'Aran64', 2311, 'd4,d5,Nf3,c6,c3,Nf6,Bg5,Bf5,Nbd2,e6,e3,Nbd7,Be2,h6,Bh4,Bd6,O-O,Qc7,Bg3,Bxg3,hxg3,e5,dxe5,Nxe5,Nd4,Bh7,b4,O-O,N2f3,Ne4,Qc1,Rfe8,Nxe5,Qxe5,Bd3,Kh8,Qc2,f5,a4,Rad8,a5,a6,Rac1,Rd6,Bxe4,fxe4,c4,dxc4,Qxc4,Bg8,Qc5,Rd5,Qc3,Qe7,Rcd1,h5,Ne2,Rb5,Rd4,h4,Rfd1,hxg3,Nxg3,Qf6,Qc2,Qh4,Qe2,Rg5,Qc2,Rge5,Rd6,Bd5,Qc3,R5e6,Rxe6,Rxe6,Qc5,Rh6,Qf8+,Bg8,Qf5', 'Qh2+,Kf1,Bc4+,Ke1,Qg1+,Kd2,Rd6+,Kc3,Qxd1', 'https://lichess.org/training/Zhzh8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zi4Oe', 'Blitz', 'bantus100', 1640, 'le_Sw33t', 1648, 'd4,d5,Nc3,Bf5,Nf3,e6,e3,Bb4,Bd2,a5,Bd3,Nc6,Bxf5,exf5,Nb5,Nf6,Bxb4,axb4,Ne5,Nxe5,dxe5,Ne4,O-O,c6,Nd4,g6,a3,bxa3,bxa3,O-O,f3,Ng5,f4,Ne4,Nf3,Re8,Rb1,f6,exf6,Qxf6,Rxb7,Qc3,Re1,Rxa3,Nd4,Rea8,Qb1,Ra1,Rb8+,Rxb8,Qxb8+,Kg7,Qe5+,Kh6', 'Nxf5+,gxf5,Qxc3,Nxc3,Rxa1', 'https://lichess.org/training/zi4Oe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zi5P1', 'Rapid', 'regis64', 1898, 'Brucelee1973', 1847, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nd3,Qxe4+,Be3,Ng4,Nc3,Qe7,Nd5,Qd7,Be2,Nxe3,fxe3,c6,N5f4,Be7,O-O,O-O,Rf3,Qe8,Rg3,g6,Bh5,Kh8,Bg4,Bh4,Rh3,Bg5,Nxg6+', 'fxg6,Bxc8,Qxc8', 'https://lichess.org/training/zi5P1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZI6Bx', 'Rapid', 'hikabikabu1996', 965, 'GeraltOfRivia98', 843, 'e4,Nh6,e5,e6,d4,Be7,Nf3,O-O,Bd3,Bb4+,Nc3,Bxc3+,bxc3,d6,c4,dxe5,Nxe5,Qxd4', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/ZI6Bx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zI6Hg', 'Blitz', 'shaaadi2', 1524, 'GregorAbmayr', 1528, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kxf2,Nxe4+,Ke3,Qh4,Rf1,d5,Bxd5,Bg4,Qe1,Qe7,Bxe4', 'Qc5+,d4,Qxd4#', 'https://lichess.org/training/zI6Hg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zi6XH', 'Classical', 'Rem88', 1790, 'gokselgoktas', 1722, 'e4,e6,d4,d5,e5,c5,Bb5+,Nc6,Nf3,Qb6,Bxc6+,bxc6,O-O,Ne7,b3,Nf5,c3,cxd4,cxd4,c5,dxc5,Bxc5,Ba3,Bxa3,Nxa3,O-O,Rc1,Ba6,Re1,Rfc8,Nc2,Rab8,Ncd4', 'Rxc1,Qxc1,Nxd4,Nxd4,Qxd4', 'https://lichess.org/training/Zi6XH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zI8pq', 'Blitz', 'Slobodadogroba', 1707, 'Paivarov', 1696, 'e4,c6,Nf3,d5,exd5,cxd5,h3,Nf6,d4,Bf5,c3,e6,Bg5,Nbd7,Bb5,Qb6,Bxd7+,Nxd7,b3,Rc8,Bd2,Nf6,O-O,Ne4,Ne5,Bd6,f3,Ng3,Re1,O-O,Bf4,Bxe5,Bxe5,Nh5,f4,f6,Qxh5,fxe5,fxe5,Be4,Nd2,Bg6,Qh4,Rf5,Rac1,Rcf8,Nf3,Rf4,Qg3,Qd8,Ng5,Qe7,a4,R8f5,Nf3', 'Rxf3,gxf3,Rg5,Kh2,Rxg3', 'https://lichess.org/training/zI8pq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZI8yT', 'Classical', 'episkopal', 1783, 'KoenigDrosselbartIV', 1813, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,O-O,Nxc3,dxc3,Be7,Re1,d6,Be3,Be6,Bxe6,fxe6,Nd2,O-O,Nc4,d5,Nd2,Bg5,Bc5,Bxd2,Qxd2,Rf5,Re3,b6,Ba3,e4,Rg3,Ne5,Qh6,g6,Qh3,Rh5,Qxe6+,Kg7,Be7,Qe8,Bf6+,Kh6,Qxd5', 'Nf3+,gxf3,Rxd5', 'https://lichess.org/training/ZI8yT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZiAb7', 'Rapid', 'soda_can_man', 1809, 'luvicia', 1865, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Na3,cxd4,cxd4,Bxa3,bxa3,Nge7,Be2,O-O,O-O,Ng6,Be3,Qa5,Qb3,Qc7,Rfc1,Bd7,Rab1,Rab8,Bb5,Qd8,Bxc6,Bxc6,Qc3,a6,Rb2,Qe7,Rcb1,Rfc8,Qd3,Bb5,Qb3,Bc4,Qb4,Qd7,Rc1,Bb5,Rxc8+,Rxc8,h3,Rc4,Qd6,Rc7,Bd2,Bc6,Bb4,Ne7,Ba5,Nf5', 'Qxc7,Qxc7,Bxc7', 'https://lichess.org/training/ZiAb7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zIBcJ', 'Rapid', 'Nemesis_GR', 1994, 'cognicion', 1765, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,h6,Nxd4,Ne5,Bb3,Nf6,f4,Nxe4,O-O,Ng6,Re1,d5,Nc3,Bb4,Bxd5,O-O,Bxe4,Re8,Bxg6,Bg4,Rxe8+,Qxe8,Bxf7+,Kxf7,Qf1,Rd8,Qc4+,Kg6,Bd2,c5,f5+,Kh7,Ne6,Bxf5,Nxd8,Qxd8,a3,Ba5,Qxc5', 'Bb6,Be3,Bxc5', 'https://lichess.org/training/zIBcJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ziC2B', 'Blitz', 'Basheer2022', 1534, 'haylas41', 1536, 'e4,e5,Bc4,Nc6,Nf3,h6,Nc3,Nf6,d4,exd4,Nxd4,Qe7,Nxc6,dxc6,O-O,Be6,Bxe6,Qxe6,e5,Nd5,Nxd5,Qxd5,Qe2,Bc5,Bf4,O-O,Rad1,Qxa2,b3,Qa6,Qg4,Bb4,Bxh6,g6,Bxf8,Kxf8,e6,fxe6,Qxe6,Re8,Qf6+,Kg8,Rd7', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/ziC2B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZIc8f', 'Rapid', 'estebanboro', 1642, 'twa', 1637, 'e4,e5,Nf3,d6,h3,a6,a3,Nc6,Bc4,Nf6,Ng5,h6', 'Nxf7,Qe7,Nxh8', 'https://lichess.org/training/ZIc8f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zici8', 'Rapid', 'ManueldeReyes', 1902, 'Demonista', 2092, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,Nc3,Nc6,Qe3,Bg7,a3,O-O,Bb5,Qa5,Bd2,Qc7,O-O-O,a6,Bxc6,bxc6,g4,Nxg4,Qe2,Rb8,h3,Qb6,b3,Qxf2', 'hxg4,Qxe2,Nxe2', 'https://lichess.org/training/zici8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zIeQC', 'Classical', 'Joko_pamungkas', 1814, 'emirbofficial', 1690, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,O-O,Bg5,h6,Bh4,Nd4,c3,Nxf3+,Qxf3,d6,Bxf6,Qxf6,Qxf6,gxf6,b4,Bb6,Kh1,f5,f4,fxe4,fxe5,dxe5,dxe4,Kh7,Rxf7+,Rxf7,Bxf7,c5,bxc5,Bxc5,Nd2,Be3,Nf3,Bg4,Nxe5,Be2,Bd5,Bd2,c4', 'Bc3,Rb1,Bxe5', 'https://lichess.org/training/zIeQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZIEqJ', 'Classical', 'paganica91', 1620, 'Kwasny1', 1610, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,d3,Be7,Be3,a6,Nc3,b5,Bb3,Nf6,Nd5,Nbd7,Qd2,c6,Nxe7,Qxe7,g4,Bg6,Nh4,d5,exd5,Nxd5,Bg5,f6,Nxg6,hxg6,Be3,f5,O-O-O,f4,Bxd5', 'fxe3,fxe3,cxd5', 'https://lichess.org/training/ZIEqJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ziGR3', 'Blitz', 'girnizabar', 1890, 'Pomarino', 1929, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Ngf3,c5,c3,Nc6,Be2,f5,exf6,Nxf6,O-O,Bd6,Re1,O-O,dxc5,Bxc5,Nb3,Bb6,Bd3,Bd7,Qc2,Rc8,Bg5,Nb4,Qd2,Nxd3,Qxd3,Qc7,Nbd4,Rce8,Ne5,Ne4,Nxd7,Qxd7,Be3,e5,Nc2,Nxf2,Qe2,Ng4,Bxb6,axb6,Ne3,Nxe3,Qxe3,Qc6,Rad1,Rf6,Qd3,Qc5+,Kh1,Ref8,Rxe5,Qf2,Ree1,Qxb2,Qxd5+,Kh8,Qxb7,Qxc3,Qd5', 'Qxe1+,Rxe1,Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/ziGR3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZIh2L', 'Rapid', 'NOTFOXAnonymous', 1909, 'bartyjool', 1856, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d4,exd4,e5,Nd5,O-O,b5,Bb3,Nde7,Bxf7+,Kxf7,Ng5+,Ke8,Qf3,Nxe5,Qxa8,N7c6,Re1,h6,Nf3,Bd6,Bf4,Kf7,Nxe5+,Bxe5,Bxe5,Re8,Nd2,Rxe5,Rxe5,Nxe5,Qd5+,Kf8,Qxe5,d6,Qxd4,Bb7,Qf4+,Kg8,Re1,Qd7,Re3,Qc6,Rg3,Qxc2,Qxh6', 'Qc1+,Nf1,Qxh6', 'https://lichess.org/training/ZIh2L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZIHL5', 'Blitz', 'dullboy', 1861, 'Pausanias', 2136, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,d3,d6,Be3,Nf6,h3,O-O,Qd2,Rb8,Bh6,Bxh6,Qxh6,Nd4,Qd2,b5,Nge2,Bd7,Nf4,e5,Nfd5,Be6,Nxf6+,Qxf6,f4,exf4,gxf4,b4,Ne2,Nxe2,Qxe2,Qxb2,O-O,Rbe8,Kh1,a5,h4,h5,Qf2,Bg4,Kh2,Qd4,Qg3,a4,Bf3,Bxf3,Qxf3,a3,f5,Qe5+,Kh1,Qd4,Rg1,d5,Qxh5,Re5,Rxg6+,fxg6,Qxg6+,Kh8,Qh6+,Kg8,Qg6+,Kh8,Rg1,Re7', 'Qh6+,Rh7,Qxf8#', 'https://lichess.org/training/ZIHL5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zIICf', 'Classical', 'Rookeer', 1824, 'uygarbaksi', 1844, 'd4,d5,c4,e6,Nc3,Nf6,e3,c6,Nf3,Bb4,a3,Bxc3+,bxc3,O-O,cxd5,exd5,c4,Ne4,Bd3,Bg4,h3,Bh5,Be2,dxc4,Bxc4,Bxf3,Qxf3,Qa5+,Ke2,Nc3+,Kd3,Nd5,Bd2,Qd8,Rab1,Nb6,Bb4,N8d7,Bxf8', 'Ne5+,Ke2,Nxf3', 'https://lichess.org/training/zIICf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zikm6', 'Rapid', 'freeboot', 2032, 'EnPassant81', 2340, 'e4,c6,f4,d5,e5,h5,d4,Bf5,Nf3,Nd7,Bd3,Bxd3,Qxd3,e6,f5,exf5,Qxf5,Nh6,Bxh6,Rxh6,O-O,Qe7,Ng5,Rg6,Nxf7,Rg4,Nd6+,Kd8,Nxb7+,Kc7,Nd6,Rxd4,Nf7,g6,Qxg6,h4,Nc3,h3,e6,hxg2,Qg3+,Kb7,Qxg2,Nf6,Qf2,Rg4+,Kh1,Bg7,Ne5,Rh8,Nxg4,Nxg4,Qf7', 'Rxh2+,Kg1,Bd4+', 'https://lichess.org/training/Zikm6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZIKTs', 'Rapid', 'CM JLEnamorado', 1978, 'Mechadorada', 1969, 'c4,c5,Nf3,d6,g3,b6,Bg2,Bb7,Nc3,Nd7,O-O,g6,b3,Bg7,Bb2,Ngf6,Qc2,e5,Nb5,O-O,Nxd6,Bc6,Nxe5,Bxg2,Kxg2,Nxe5,Bxe5,Qe7,Qb2,Rad8,Nb5,Rfe8,Nc7', 'Qxe5,Qxe5,Rxe5', 'https://lichess.org/training/ZIKTs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZiLut', 'Rapid', 'jamasp', 1835, 'tinota', 2115, 'e4,e6,Qe2,Nc6,Nf3,e5,g3,Nf6,Bg2,g6,O-O,Bg7,d3,h6,Nc3,O-O,h3,d6,Be3,Nh5,Rad1,Bd7,Kh2,Qe8,Ng1,f5,f4,Nd4,Bxd4,exd4,Nb1,Bc6,Nd2,Rf6,Ndf3,Re6,Rfe1,fxe4,dxe4,Bxe4,Nxd4,Bxd4,Bxe4,Bxg1+,Kxg1,c6,Qd3,d5,Bf3,Rxe1+,Rxe1,Qxe1+,Kg2,Qxg3+,Kf1,Nxf4,Bxd5+,cxd5,Qxg3,g5,h4,Rf8,Ke1,Rf5,hxg5,hxg5,Qb3,b6,Qb5,Re5+,Kd1,g4,Qd7,Re6,Qd8+,Kf7,Qg5,Ng2,Qxg4', 'Ne3+,Kc1,Nxg4', 'https://lichess.org/training/ZiLut');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZIO8J', 'Classical', 'RomanoIV', 1949, 'shahmatchi', 1853, 'e4,d6,d4,c6,c3,e6,Nd2,Na6,Ngf3,Nc7,Bd3,f5,exf5,exf5,O-O,d5,Re1+,Be7,Qc2,g6,Ne5,Nf6,Ndf3,O-O,Bh6,Re8,Re2,Ng4,Nxg4,fxg4,Bxg6,gxf3,Bxh7+,Kh8,Qg6,Bf6', 'Rxe8+,Qxe8,Qxf6+,Kxh7,Qg7#', 'https://lichess.org/training/ZIO8J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zIoxu', 'Blitz', 'Shahhanshah', 1844, 'Welmsoehermansyah', 1825, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qc7,Nf3,Bg4,h3,Bh5,Be2,Nf6,Ne5,Nbd7,Bxh5,Nxe5,Be2,Ng6,Be3,e6,a3,Bd6,Qd2,O-O,Bg5,Nd7,O-O-O,b5,Ne4,a5,Nxd6,Qxd6,h4,h6,Be3,Nf6,h5,Ne7,Bf4,Qd5,Bf3,Qa2,c3,b4,Kc2,bxa3,Rb1,a4,Be5,Qb3+,Kc1,Ned5,Bxd5,Nxd5,Bd6,Rfd8,Bxa3,Rab8,g4,Nb6,Qc2,Qd5,Rg1,Nc4,Bb4,Qg5+,Kd1,Qf4,g5,hxg5,Qd3,Ne5,Qg3,Qxg3,Rxg3,f6,Ke2,Kh7,dxe5,fxe5,Rxg5,Rd5,Rbg1,Rb7,Bf8,Rxb2+,Ke3,Rc2,Bb4,c5,Rxg7+,Kh6,Ba5,c4,R7g6+,Kxh5,Rxe6', 'Rd3+,Ke4,Re2+,Kf5,Rf3#', 'https://lichess.org/training/zIoxu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZIpL4', 'Rapid', 'Nurmahan27051987', 2071, 'DAN_1974', 2035, 'Nf3,c5,c4,Nc6,Nc3,d6,e4,Bg4,Be2,Nf6,O-O,e6,d3,h6,Be3,Be7,h3,Bh5,g4,Bg6,Nh4,Nxg4,Nxg6,Nxe3,fxe3,fxg6,Bg4,Qd7,Nd5,h5', 'Bxe6,Qxe6,Nc7+,Kd7,Nxe6', 'https://lichess.org/training/ZIpL4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zIrIP', 'Classical', 'Jcheng23', 1800, 'FlyingChickenNuggets', 1777, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Be3,Bb4,Ne2,Nf6,a3,Bd6,Bg5,b5,Bxf6,gxf6,Qd3,Nc6,g3,Ne5,Qe3,Bc5,Qh6,Ng4,Qh4,Nxf2,Qxf6,Rg8,Bg2,Nxh1,Bxh1,Rg6,Qh8+,Ke7,Qxh7,Be3,Rd1,Rh6,Qg7,Rxh2,Bf3,Bb7,Rd3,Bb6,Nf4,Rah8', 'Ng6+,Kd8,Nxh8', 'https://lichess.org/training/zIrIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zIRp1', 'Blitz', 'CM kirillgenius', 2337, 'Vasiliy_Sz', 1677, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,Bd7,Nge2,e6,Qd2,Na6,O-O-O,Bc6,g4,Re8,h4,e5,d5,Bd7,h5,c6,Kb1,cxd5,cxd5,Rc8,Bh6,Nc5,Bxg7,Kxg7,hxg6,fxg6,Qh6+,Kg8,Ng3,a5,g5,Nh5,Nxh5,gxh5,g6,Qe7,Rxh5,hxg6,Qh8+,Kf7', 'Rh7#', 'https://lichess.org/training/zIRp1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZIrxF', 'Rapid', 'astrolabe', 1782, 'sarijanto', 1770, 'e4,g6,d4,Bg7,Be3,b6,Nc3,Bb7,Nf3,h6,Bd3,a6,O-O,e6,Qd2,d6,a4,Ne7,b4,g5,b5,a5,Rad1,Nd7,Na2,Ng6,c4,Qe7,Nc3,c5,d5,e5,Be2,Nf4,Bxf4,gxf4,Ne1,O-O-O,Bf3,Rdg8,g3,Bf6,Ng2,Bg5,Ne2,Kb8,gxf4,Bh4,Kh1,Qf6,Nxh4,Qxh4,Rg1,Qxf2,Rdf1', 'Rxg1+,Rxg1,Qxf3+', 'https://lichess.org/training/ZIrxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zITaW', 'Rapid', 'DHAferda', 1695, 'Araz2014', 1656, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,Nf6,c3,c6,Bd3,Bd6,Bg3,Bg6,Bxd6,Bxd3,Qxd3,Qxd6,Ne5,Ne4,f3,f6,fxe4,fxe5,dxe5,Qxe5,O-O,dxe4,Qe2,Na6,Qf2,O-O-O,Qf7,Rhf8,Qe7,Rxf1+,Kxf1,Rd1+,Ke2,Qh5+,Kf2,Qf5+,Kg3,Qg6+,Kh4,Qxg2,Qxe6+,Kc7,Qe5+,Kb6,Qg3,Qc2,Na3,Qe2,Rxd1,Qxd1,Nc4+,Kc5,Ne5,Nc7,Qxg7,Qe1+,Qg3,Qd1,Qg7,Qe1+,Qg3,Qd1,Qg5,Qe1+,Kh5,Qe2+,Ng4+,Kb6,Qe7,Qxb2,Qxe4,Qxc3,Qxh7,Qc5+,Kh4,Qa5,Qb1+,Nb5,e4,Qd2,e5,Qe2', 'a4', 'https://lichess.org/training/zITaW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZIUtN', 'Blitz', 'Frinando1790', 1767, 'KISWOYO', 1899, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,e5,c5,d3,d5,exd6,Qxd6,O-O,Nf6,Re1+,Be7,Bg5,O-O,Bxf6,Bxf6,Nd2,Bd7,Ne4,Qf4,g3,Qf5,Nd6,Qh3,Ne4,Bg4,f3,Bd7,Nxf6+,gxf6,Re7,Bc6,c3,Qf5,Qb3,Qxf3,Bxf7+,Kh8,Qc2,Qh1+,Kf2,Qxh2+,Ke1,Qxc2,Bb3,Qxd3,Rd1,Qxg3+,Kd2,dxc3+,bxc3,Rad8+,Kc1,Qxc3+,Bc2,Ba4', 'Rxh7+,Kg8,Rg1+,Qg3,Rxg3#', 'https://lichess.org/training/ZIUtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZIUyM', 'Rapid', 'gn0s1s', 1927, 'Aledra', 1997, 'd4,Nf6,Bf4,d5,e3,c6,c3,Bf5,Nf3,e6,Nh4,Bg6,Nxg6,hxg6,Nd2,Nbd7,Nf3,Be7,Bd3,Rc8,Qa4,Qb6,b4,O-O,O-O,Nh5,Bg5,Bxg5,Nxg5,Nhf6,Nf3,Rfe8,Qb3,a6,a4,Qc7,Rfc1,e5,dxe5,Nxe5,Be2,Nxf3+,Bxf3,Qe5,Rd1,Ne4,c4,dxc4,Qxc4,Nf6,Rac1,Rcd8,b5,Qb2,bxa6,Rxd1+,Rxd1,bxa6,Bxc6,Rc8,Qxa6,Rb8,Bb5,Qc2,Qd6,Rc8,g3', 'Ne4,Qd7,Qxf2+', 'https://lichess.org/training/ZIUyM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZIV1I', 'Classical', 'ueshahda', 1682, 'nikolai777777', 1661, 'e4,e5,Nf3,Qf6,d3,h6,Nc3,c6,a3,Bc5,b4,Bb6,Bb2,d6,a4,a5,Ba3,Bg4,b5,Bd4,Bb2,Bxf3,gxf3,Qf4,Ne2,Qxf3,Bxd4,Qxh1,Ng3,Qxh2,Qg4,Ne7,Bb6,Nd7,Bc7,Nf6', 'Qxg7,Rg8,Qxf6', 'https://lichess.org/training/ZIV1I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zIvmZ', 'Blitz', 'WetTeo', 1846, 'Dynami-34', 1821, 'd4,Nf6,Nc3,e6,Bf4,b6,e4,Bb7,Bd3,Bb4,Ne2,Nxe4,Bxe4,Bxe4,f3,Bb7,a3,Be7,O-O,O-O,Nb5,d6,Nec3,a6,Nxd6,cxd6,Re1,Nc6,d5,exd5,Nxd5,Bf6,Nxf6+,Qxf6,Qxd6,Qxb2,Rab1,Qc3,Re3,Qxc2,Rbe1,Rad8,Qc7,Ba8,Qxb6,Rd2,Kh1,Rxg2,Qxa6,Nd4,Re8,Rxh2+,Bxh2', 'Bxf3+,Kg1,Qg2#', 'https://lichess.org/training/zIvmZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zIVW8', 'Rapid', 'NM Antonio96', 2095, 'FirstRook', 2174, 'c4,e5,g3,Nc6,Bg2,g6,Nc3,Bg7,d3,Nge7,Nf3,O-O,O-O,d6,Rb1,f5,Nd5,Nxd5,cxd5,Ne7,Bg5,h6,Bxe7,Qxe7,Nd2,Bd7,Qb3,Rab8,Rbc1,Rfc8,Rc4,Qf7,Rfc1,c5,dxc6,Be6,c7,Rxc7,Rxc7,Bxb3,Rxf7,Bxf7,b3,d5,Rc7,Bf6,h4,Be6,Nf1,Bd8,Rc2,Bb6,Ne3,e4,dxe4,fxe4,Kh2,Kf7,Bh3,Bxh3,Kxh3,Ke6,Kg4,Rf8,Nd1,Bxf2,Rc7,Bb6,Rxb7,Ke5,Nc3,Kd4,Na4,Ke3,Nxb6,axb6,Rxb6,Kxe2,Rd6,Rf5,a4,Kd3,a5,e3,a6,e2,Re6,Rf7,b4,Kd2,b5,e1=Q', 'Rxe1,Kxe1,b6', 'https://lichess.org/training/zIVW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZiwCY', 'Blitz', 'luis_lo', 1780, 'Panzerkampfwagen4', 1813, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,d5,exd5,exd5,Nc3,Nf6,Bd3,Bb4,O-O,O-O,Bg5,h6,Bh4,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd1,Nc6,Bc2,d4,Ne4,Be7,Qd3,Ne5', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/ZiwCY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zixFd', 'Blitz', 'KhasD', 1509, 'catorcio', 1624, 'e4,e6,Nf3,c6,d4,d5,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,e5,Be7,Bd3,h6,O-O,b5,a4,b4,Ne2,a5,c3,Nd7,c4,dxc4,Bxc4,Ba6,Qd3,Bxc4,Qxc4,Qb6,Rac1,Rc8,Nf4,c5,d5,O-O,dxe6,f6,exd7+,Kh8,dxc8=Q,Rxc8,exf6,Bxf6,Ng6+,Kh7,Qe4,Kg8,Ne7+,Bxe7,Qxe7,c4,Ne5,c3,bxc3,bxc3,Rfd1,c2,Rd2,Qb2,Qe6+,Kh7,Qg6+,Kh8,Rdxc2', 'Qxc1+,Rxc1,Rxc1#', 'https://lichess.org/training/zixFd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zIxsC', 'Blitz', 'NM Clavis', 2238, 'magomya', 2305, 'd4,d6,Nf3,g6,Bf4,Bg7,e3,Nf6,c4,O-O,Nc3,a6,Be2,c6,h3,b5,O-O,bxc4,Bxc4,Bb7,Rc1,Nbd7,Bh2,Rb8,Qe2,Qa5,a3,Rfc8,Rfd1,Qb6,b4,Ra8,e4,Nh5,e5,c5,e6,Nf8,exf7+,Kh8,dxc5,dxc5,Na4,Qf6,Nxc5,Rxc5,bxc5,Rc8,Bd5,Bxd5,Rxd5,Nf4,Bxf4,Qxf4,Rcd1,e5,Rd8,Rxd8,Rxd8,e4,Nd4,Qc1+,Kh2,Qxc5,Qxe4', 'Qc7+,g3,Qxd8', 'https://lichess.org/training/zIxsC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zixsQ', 'Blitz', 'Petertromso', 1649, 'ravilboss', 1680, 'e4,e5,Bc4,Nc6,a3,f5,exf5,Nf6,Nc3,d5,Ba2,Bxf5,d3,Bd6,Nxd5,Bg4,Nxf6+,Qxf6,Qxg4,Nd4,Qd1,Rf8,Nf3,O-O-O,O-O,Qg6,Nxd4,exd4,h3,Kb8,Bd5,Qf6,Be4,Qe5,f3', 'Qh2+,Kf2,Bg3+,Ke2,Qxg2+,Rf2,Qxf2#', 'https://lichess.org/training/zixsQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ziybY', 'Classical', 'Lucavert', 1656, 'DracoVolantus', 1663, 'e4,e5,Nf3,d5,exd5,e4,Nd4,Nf6,Bc4,Nxd5,Nc3,Nf6,Nce2,Bc5,c3,O-O,d3,Re8,Be3,Bb6,O-O,c5,Nb3,Ng4,dxe4,Rxe4,Qxd8+,Bxd8,Rad1,Nc6,Bb5,Be6,f3,Nxe3,fxe4,Nxf1,Rxf1,a6,Bxc6,bxc6,Nxc5,Bxa2,Nd4,Be7,Ra1,Bc4,Nxa6,Bxa6,Nxc6,Bc5+,Kh1,Bb7,Rxa8+,Bxa8,Na5,Bxe4,b4,Bf2,c4,Kf8,b5,Ke8,Nc6,Kd7,Ne5+,Ke6,Ng4,f5,Nxf2,Ba8,c5,Bd5,b6,Kd7,Nd3,Be4,b7,Bxb7,Ne5+,Ke6,Nd3,Kd5,Kg1,Kd4,Nf4,Kxc5,Ne6+,Kd5,Nxg7,Ke5,Kf2,f4,g3,fxg3+,Kxg3,Kf6,Ne8+,Ke7,Nc7,Kf7,Kg4,Kg6,Ne6', 'Bc8,Kf3,Bxe6', 'https://lichess.org/training/ziybY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ziYDi', 'Classical', 'h3llf1r3', 1623, 'persian_chesser', 1668, 'd4,Nf6,Bf4,g6,e3,Bg7,Be2,d6,c3,O-O,Nd2,e5,Bg3,Nc6,Nc4,exd4,cxd4,Ne4,Bf4,d5,Nd2,Nxd4,exd4,Nxf2,Kxf2,Bxd4+,Be3,Qh4+,g3,Bxe3+,Kxe3,d4+,Kf2,Qf6+,Ngf3,Bh3,Ne4,Qb6,Qxd4,c5,Qe3,Rae8,Nfg5,Bf5,Bf3,Qxb2+,Qe2,Qd4+,Qe3,Qb2+,Qd2,Qb6,Rab1,Qc6,Rxb7,Bxe4,Bxe4,Rxe4,Nxe4,Qxb7,Re1,Qe7,Qc3,Qb7,Re2,Rc8,Nd6,Qh1,Nxc8,Qxh2+,Ke3,Qxg3+,Kd2,Qg5+,Qe3,Qd5+,Qd3,Qxa2+,Qc2,Qa5+,Kd1,Qd8+,Rd2,Qxc8,Qd3,Qg4+,Kc2,Qa4+,Qb3,Qe4+,Rd3', 'c4,Qb8+,Kg7', 'https://lichess.org/training/ziYDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ziYg2', 'Classical', 'vlad1964', 2075, 'MEV_KSK', 2012, 'Nf3,Nf6,b4,e6,a3,a5,b5,c5,Bb2,d5,g3,b6,Bg2,Bb7,O-O,Nbd7,c4,dxc4,a4,Bd6,Na3,O-O,Nxc4,Bc7,Rc1,Re8,d4,cxd4,Nxd4,Bxg2,Kxg2,Nc5,Qc2,Qd5+,f3,Ng4,Kh3', 'Qh5+,Kg2,Qxh2#', 'https://lichess.org/training/ziYg2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zIZ4Z', 'Rapid', 'reightlaiker', 1695, 'SirOsisoftheLiver', 1790, 'e4,e5,f4,exf4,Nf3,Nf6,Nc3,Bc5,d4,Bb6,Bxf4,d6,Bc4,O-O,O-O,a6,Qd3,Nc6,a3,Ba7,Kh1,Bg4,h3,Bxf3,Rxf3,Nxd4,Rff1,Nh5,Bh2,Ne6,Rae1,Qg5,Bxe6,fxe6,Rxf8+,Rxf8,Rf1,Nf4,Bxf4,Rxf4,Qd1,Bf2,Qe2,Bg3,Qd1,e5,Ne2,Rxf1+,Qxf1,Qe3,Nxg3,Qxg3,Qc4+,Kf8,Qxc7,Qe1+,Kh2,Qxe4,Qxd6+,Kf7,Qd7+,Kg6,Qe6+,Kh5,Qf7+,Qg6,Qf3+,Kh6,Qxb7,Qxc2,Qxa6+,g6,b4,e4,Qf1,Kg7,b5,e3,b6,Qf2,b7,Qxf1,b8=Q,e2,Qe5+,Kg8,Qe6+,Kg7,Qe5+,Kh6,Qe3+,g5,Qe6+,Kh5', 'g4+,Kh4,Qh6#', 'https://lichess.org/training/zIZ4Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZiZBb', 'Rapid', 'mathemagicianalabi', 1807, 'Oyediran_abiodun', 1614, 'Nf3,c5,d4,cxd4,Qxd4,Nc6,Qa4,e6,e4,Nf6,e5,Nd5,c4,Nb6,Qd1,Qc7,Bf4,Bc5,Nc3,O-O,Be2,f6,O-O,fxe5,Bg3,a6,Ne4,Be7,Nfg5,Nd4', 'Qxd4,exd4,Bxc7', 'https://lichess.org/training/ZiZBb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zizcn', 'Rapid', 'TSM23', 2424, 'dagome61', 2407, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nb6,Nf3,g6,Be3,Bg7,Nc3,O-O,Qd2,Nc6,d5,Ne5,Nxe5,Bxe5,Bd4,Bxd4,Qxd4,e6,O-O-O,exd5,c5,Nd7,Nxd5,c6,Nf4,Qg5,b4,a5,h4,Qe5,Qxe5,Nxe5,b5,a4,h5,cxb5,Nd5,Be6,Nc7,Rac8,Nxe6,fxe6,hxg6,Rxc5+,Kb1,hxg6,f4,Rxf4,Rd8+,Kg7,Rdh8,Kf6,a3,Kg5,Rb8,Rc3,Rxb7,Rxa3,Rxb5,Rb3+,Rxb3,axb3,Kb2,Rb4,Be2,Kf4', 'Rh4+,Kg3,Rxb4', 'https://lichess.org/training/Zizcn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zIzHl', 'Rapid', 'gabifeller', 1986, 'Stalin_Edison_Flores', 1878, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Be7,Bc4,Be6,f4,Nf6,Be3,Qd7,O-O-O,Bxc4,Qxc4,O-O,e5,Ng4,Bg1,Rfe8,Ne4,b5,Qe2,d5,Nc5,Bxc5,Bxc5,c6,h3,Nh6,g4,f6,Rhe1,fxe5,fxe5,a5,Qd3,a4,g5,Nf5', 'e6,Rxe6,Qxf5', 'https://lichess.org/training/zIzHl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJ0wJ', 'Classical', 'Fran_ADK', 1706, 'RostovVelikij76', 1646, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,c3,Bxf3,Qxf3,c5,Bb5+,Nc6,O-O,Qb6,Bxc6+,Qxc6,Be3,Qb6,Qe2,Nh6,Bxh6,gxh6,Qd2,Be7,Na3,f5,Rab1,Bg5,f4,Be7,Nc2,Qa5,a3,O-O-O,b4,cxb4,axb4,Qb5,Ra1,a6,Ra5,Qc6,Rb1,b5,Rba1,Kb7,Na3,Ra8,Qd3,Rhc8,Nb1,Bxb4,cxb4,Qc1+,Qf1', 'Qe3+,Kh1,Rc1', 'https://lichess.org/training/ZJ0wJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zj4jK', 'Blitz', 'emmyson', 1786, 'nizzle_fe_shizzle', 2093, 'd4,g6,c4,Bg7,Nc3,d6,e3,a6,Nf3,Nf6,Be2,h6,O-O,O-O,h3,Nbd7,a3,c5,Bd2,cxd4,Nxd4,e5,Nf3,Qe7,Nd5,Nxd5,cxd5,f5,Nh2,e4,Bc3,Ne5,f4,exf3,Nxf3,Nxf3+,Bxf3,Qxe3+,Kh1,Bxc3,bxc3,Qxc3,Rc1,Qf6,Rc7,b5,Qc1,f4,Qc6,g5,Qxa8,Bxh3,Qxa6,Qd8,Rc6,Bc8,Qa7,Rf7,Qd4,g4,Be4,Qh4+,Kg1,Bd7,Rxd6,g3,Bh7+,Rxh7,Rxf4,Qh2+,Kf1,Qh1+,Ke2,Re7+,Kf3,Qf1+,Kxg3,Qe1+,Kh2,Rg7,Rxd7', 'Qg3+,Kg1,Qxg2#', 'https://lichess.org/training/zj4jK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJdhp', 'Rapid', 'varista', 1838, 'Ahmad_Qhwaji', 1808, 'e4,c5,Nc3,Nc6,g3,a6,Bg2,g6,d3,Bg7,Be3,d6,Qd2,e6,Nh3,Qb6,Rb1,Nd4,Nd1,Qc7,c3,Nc6,f4,e5,O-O,Nf6,f5,Ng4,fxg6,hxg6,Nhf2,Nxh2,Re1,Ng4,Nxg4,Bxg4,Nf2,Qd7,Rf1,O-O-O,b4,cxb4,cxb4,Kb8,a4,Nd4,Bxd4,exd4,b5,Be5,bxa6,Bxg3,Rxb7+,Qxb7,axb7', 'Bh2+,Kh1,Bf4+', 'https://lichess.org/training/ZJdhp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJDSj', 'Rapid', 'Anatolii9824', 1819, 'ANDREY3-1415', 1744, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Nc3,Bb4,Qd3,Nf6,Nf5,Qxe4+,Qxe4+,Nxe4,Nxg7+,Kd8,Bd2,Bxc3,bxc3,Nxd2,Kxd2,Ne5,Re1,d6,h3,Rg8,Nh5,Be6,f4,Nc4+,Bxc4,Bxc4,Nf6,Rxg2+,Kc1,Be6,f5,Rf2,Rhg1,Ke7', 'Nd5+,Kd7,fxe6+', 'https://lichess.org/training/ZJDSj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zjF8d', 'Rapid', 'Laci2020', 1979, 'wojtillo', 1993, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Nxc3,bxc3,Bc5,e3,O-O,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,c6,Nf3,Bf5,O-O,Nd7,Nh4,Bg6,Nxg6,fxg6,f4,g5,e4,gxf4,Rxf4,Rxf4,Qxf4,Qf6,Qxf6,Nxf6,e5,Ng4,h3,Ne3,Kf2,Nxg2,Kxg2,Rd8,Rd1,Kf7,Kf3,Ke6,Ke4,Rd5,Rb1,b6,Rc1,c5,dxc5,bxc5,Kf4,g5+,Kxg5,Rxe5+,Kf4,Rf5+,Ke3,Kd5,g4,Re5+,Kd3,Re4', 'Rxc5+,Kxc5,Kxe4', 'https://lichess.org/training/zjF8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zjFJf', 'Rapid', 'itchynoise', 1671, 'Shookspeared', 1706, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,O-O,Be7,Re1,Nc6,Nxc6,bxc6,e5,dxe5,Qf3,O-O,Bd2,Rb8,b3,Bb7,Rxe5,Bd6,Re2,Qc7,Kh1,c5,Qh3,Rfe8,Rae1,Bf4,Bxf4,Qxf4,f3,Qc7,Ne4,Nd5,Ng5,h6,Nxe6,fxe6,Rxe6,Rxe6,Qxe6+,Qf7', 'Bh7+,Kf8,Qd6+', 'https://lichess.org/training/zjFJf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zJfkv', 'Rapid', 'TheRealDrSartorius', 1765, 'Boscosa', 1821, 'd4,g6,Bf4,Bg7,e3,d6,c3,Nf6,Nd2,Nh5,Bg3,Nxg3,hxg3,Nc6,Ngf3,a6,Ng5,h6,Ngf3,Bg4,Bd3,h5,Qc2,Qd7,Nh4,O-O-O,f3,Be6,e4,d5,O-O-O,Na7,f4,Qc6,Nhf3,Bg4,Rde1,e6,Ne5,Bxe5,fxe5,Qb6,Ref1,Rhf8,Rf6,Qa5,Kb1,Nb5,Rhf1,Rd7,Nb3,Qb6,Nc5', 'Na3+,Kc1,Nxc2', 'https://lichess.org/training/zJfkv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJfXv', 'Rapid', 'phillip25', 1921, 'Rasputina_Babayeva', 1992, 'd4,f5,Nf3,Nf6,e3,e6,Be2,Be7,O-O,O-O,c4,b6,Nc3,Bb7,d5,exd5,cxd5,Ne4,Bc4,d6,Nxe4,fxe4,Nd2,Nd7,Nxe4,Ne5,Be2,h6,f4,Ng6,Bf3,Nh4,Ng3,Nxf3+,Qxf3,Rc8,b3,Bf6,Rb1,Qd7,Nh5,Qb5,Nxf6+,Rxf6,e4,Re8,Be3,Qd3,Rbd1,Qxe4,Qxe4,Rxe4,Bc1,Rf5,g4,Rxd5,Rxd5,Bxd5,Kf2,c6,Kg3,Re2,Rf2,Re1,Ba3,c5,Bb2,Be4,f5,Re3+', 'Kf4,Re1,Bc3,Rd1,Kxe4', 'https://lichess.org/training/ZJfXv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zjgge', 'Rapid', 'ltl', 1991, 'Gambitnor', 1821, 'd4,d5,h3,c6,Nf3,Nf6,Bf4,e6,e3,Be7,Bd3,Nbd7,Nbd2,b6,c3,O-O,Qc2,a5,a4,Ba6,Bxa6,Rxa6,Qd3,Ra7,O-O,c5,Ne5,c4,Qc2,Nxe5,dxe5,Nd7,Rfd1,Nc5,Nxc4,Qc7,Nd6,Nd7,Nb5,Qb8,Nxa7,Qxa7,Qd3,Rc8,e4,Nc5,Qe3,Nxe4,Qf3,Bc5,Be3,Qe7,Bd4,Ng5,Qf4,h6,f3,Rf8,b4,Bxd4+,cxd4,Qxb4,Rdb1,Qc4,Rb2,Rb8,Rab1,Qxa4,Rxb6,Rxb6,Rxb6,Qd1+,Kh2,Kf8,Rb8+,Ke7,h4,Nxf3+,gxf3,Qe2+,Kg3,Qe1+,Kh3,Qf1+,Kg4,Qg2+,Kh5', 'Qg6#', 'https://lichess.org/training/Zjgge');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJgY6', 'Rapid', 'Grongle', 2084, 'BPB4', 1745, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,Re1,b5,Bb3,Na5,c3,Nxb3,Qxb3,Be7,a4,Bd7,axb5,Bxb5,Na3,Bd7,d4,O-O,Nc4,Be6,Ng5,Rb8,Nxe6,fxe6,Qa2,exd4,cxd4,Ra8,h3,d5,exd5,Qxd5,Be3,Ne4,Qa4,Bg5,Bxg5,Nxg5,Ne3,Qb7,Qc2,Rab8,h4,Nf7,Nc4,Nd6,Rxe6,Nxc4,Qxc4,Kh8,Rb1,Rbd8,Re7,Rc8,d5,Qb6,Qc3', 'Qxf2+,Kh2,Qxh4+', 'https://lichess.org/training/ZJgY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJhBN', 'Rapid', 'onoroo', 1722, 'lamper_ph', 1744, 'e4,c5,Bc4,Nc6,c3,e6,d3,d5,exd5,exd5,Bb5,Bd7,Qf3,Nf6,Bg5,Ne5,Bxd7+,Nexd7,Nd2,Be7,Nh3,Ne5,Qg3,Qd6,O-O,O-O-O,a3,h6,Bf4,Nh5,Bxe5,Nxg3,Bxd6,Nxf1,Bxe7,Nxd2,Bxd8,Rxd8,b4,b6,Ra2,Re8,f3,Re2,Nf4', 'Nxf3+,gxf3,Rxa2', 'https://lichess.org/training/ZJhBN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zJJNT', 'Blitz', 'gogdin', 1730, 'Fullatak', 1727, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Nxc3,bxc3,Bxc3,Qb3,Bxa1,Bxf7+,Kf8,Bg5,Ne7,Ne5,Bxd4,Qf3,Bxe5,Be6+,Bf6,Bxf6,dxe6,Rd1,Qxd1+,Qxd1,gxf6,Qd8+,Kg7,Qxe7+,Kg6,Qxc7,e5,h3,Bf5,Qxb7,Rhb8,Qf3,Rb2,Qxa8,Rxa2,Qf3,a5,Qg3+,Kh6,Qh4+,Kg6,Kh2,a4,g4,Be4,Qh5+,Kg7,g5,Rxf2+,Kg1,Rg2+,Kf1,Rxg5,Qe2,Bg2+,Ke1,Bxh3,Qa2,Rg4,Qa3,Bg2,Kd1,Bf3+,Ke1,h5,Kf2,Bd5,Ke3,Kg6,Kf2,Kg5,Kf1,h4,Kf2,h3,Qxh3,f5,Qe3+,Kh5,Qxe5,Rg2+,Ke3,Be4,Qh8+,Kg4,Qg8+,Kh3,Qb8,a3,Qa7,a2,Kf4,Rf2+', 'Qxf2,a1=Q,Qg3#', 'https://lichess.org/training/zJJNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zjkmd', 'Blitz', 'FM JonahB94', 2584, 'realNomenNescio', 2606, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Be2,e5,Be3,Bg4,Ng1,exd4,Bxd4,Bxe2,Ngxe2,Nc6,Be3,Re8,f3,Nh5,Qd2,f5,exf5,Qh4+,Bf2,Qxc4,O-O,gxf5,Rfe1,Ne5,Rad1,Nf6,Nd4,f4,Nf5,Ng6,Nxg7,Kxg7,Bd4,Kf7,Rxe8,Rxe8,Rc1,Qe6,Bxf6,Qxf6,Nd5,Qe5,Rxc7+,Kf8,h3,Nh4,Rxh7,Nf5,Nxf4,Kg8,Rxb7,Ng3,Qd5+,Qxd5,Nxd5,Re2,Nf6+,Kf8,a4,Rd2,b4,Rb2,b5,Ne2+,Kf2,Nf4+,Kg3,Nxg2,Rxa7,Ne3,h4,Rb4,h5,Nf5+,Kg2,Nh4+,Kf2,Nf5,Rb7,Rb2+,Ke1,Ne3,h6,Ng2+,Kd1,Ne3+,Kc1,Rc2+,Kb1,Rh2,Nh7+,Ke8,Nf6+,Kd8,Rg7,Nc4,Rg8+,Kc7,Rg7+,Kb6,h7,Kc5,Nd7+,Kb4,Nf6,Kb3,Rg4', 'Rh1+,Rg1,Rxg1#', 'https://lichess.org/training/Zjkmd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJkYB', 'Classical', 'mahmoodt_d', 1731, 'alexzorin', 1718, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Nc3,d4,Bxd7+,Qxd7,Nce2,Nc6,Nf3,e5,d3,Qc7,O-O,Be7,c4,a6,a3,h6,b4,b5,c5,Nf6,h3,O-O,Nh2,Rfd8,Ng3,a5,Bb2,axb4,Ne4,Nxe4,dxe4,Bxc5,axb4,Nxb4,Ng4,h5,Nf6+,gxf6,Qxh5,Nd3,Rxa8,Rxa8,Bc1,Ra1,Qg4+,Kh7,Qh4+,Kg8,Qg4+,Kh7,Qh4+,Kg8,Qg3+,Kf8', 'Bh6+,Ke7,Rxa1', 'https://lichess.org/training/ZJkYB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zjm2p', 'Rapid', 'Yulius', 2051, 'MsC_Im', 2132, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,d6,Be3,Bxe3,fxe3,Na5,Nbd2,f5,exf5,Bxf5,Bxg8,Rxg8,O-O,Qd7,b4,Nc6,c3,Bxd3,Re1,g5,Nb3,e4,Nfd4,Nxd4,exd4,O-O-O,Nc1,Bc4,Rxe4,Rdf8,Re1,Qf5,Nb3,Qf2+,Kh1,Bd5,Re2', 'Bxg2#', 'https://lichess.org/training/Zjm2p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zJocd', 'Rapid', 'francrux', 1771, 'bulut-ali', 1661, 'e4,d5,exd5,Qxd5,c4,Qd8,Nc3,Nf6,d4,Bf5,Nf3,e6,a3,Be7,Bd3,Bg4,h3,Bh5,g4,Bg6,Bxg6,hxg6,Ne5,Nbd7,Bf4,Nxe5,dxe5,Qxd1+,Rxd1,Nxg4,Ke2,Nh6,Nb5,O-O,Nxc7,Rac8,Rd7,Nf5,Rc1,Rfd8,Rxd8+,Rxd8,Be3,Nd4+,Bxd4,Rxd4,Nb5,Re4+,Kd3,Rxe5,Nxa7,Bg5,Rc2,Rf5,Nc8,Rf3+,Ke4,Rxh3,Ke5,Bf6+,Kd6,Rd3+,Kc7,Be5+,Kxb7,Rb3+,Kc6,Bxb2,Rxb2,Rxb2,a4,g5,a5,g4,a6,Rxf2,Nb6,Ra2,Kb5,Rxa6,Kxa6,g3,Nd7,g2,c5,g1=Q,c6,Qa1+,Kb7,Qb2+,Nb6,Qc3,c7,e5,c8=Q+,Qxc8+,Kxc8,e4,Nd5,f5,Kd7,g5,Ke6,f4,Kf5', 'e3,Kxg5,e2', 'https://lichess.org/training/zJocd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zjpNb', 'Rapid', 'MagisterEqu1tuM', 2133, 'Poseidon124', 1951, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Be7,O-O,Nf6,Re1,b5,Bb3,O-O,c3,d5,exd5,Nxd5,h3,Nf4,d4,Nxh3+,gxh3,Bxh3,d5,Na5,Bc2,Bd6,Qd3,f5,Nxe5,Re8,Qxh3,Bxe5,Qxf5,Bh2+,Kxh2', 'Qh4+,Kg2,Rxe1,Qxh7+,Qxh7,Bxh7+,Kxh7', 'https://lichess.org/training/zjpNb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJprt', 'Blitz', 'akaa19', 1742, 'Martino74', 1760, 'e4,d6,d4,Nf6,Nc3,e6,f4,Be7,Nf3,Nc6,Be3,Bd7,Qd2,a6,O-O-O,b5,e5,dxe5,dxe5,Ng4,Bg1,Bb4,h3,Nh6,a3,Ba5,g4,Qe7,g5,Nf5,Bf2,Rd8,Qd3,Bb6,Bxb6,cxb6,Qe4,Ng3,Qe1,Nxh1,Bg2,Bc8,Qxh1,Rxd1+,Qxd1,Bb7,Nh4,Na5,Ne4,O-O,Nf6+,gxf6,gxf6,Qc7', 'Qg4+,Kh8,Qg7#', 'https://lichess.org/training/ZJprt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZjQl1', 'Rapid', 'rezaeifakhroddin', 2171, 'Slavik-1991', 1703, 'c4,f5,d4,Nf6,Nc3,a6,a3,g6,f4,Bg7,e3,d6,Be2,Nbd7,h4,h5,Nf3,c5,Ng5,Nb6,d5,Bd7,a4,O-O,a5,Nc8,Ne6,Bxe6,dxe6,Ng4,Nd5,Rb8,Bxg4,fxg4,O-O,b5,axb6,Nxb6,Qd3,Nxd5,cxd5,Rf6,Rxa6,Qc8,Ra2,c4,Qc2,Qc5,Kh2,Kh7,e4,Rb3,g3,Rf8,Ra7,Qxa7,Qxc4,Rf3,Qe2,Rxf1,Qxf1,Rb8,Qe2,Qd4,Kg2,Rb3,Qc2,Rxb2,Bxb2,Qxb2,Qxb2,Bxb2,e5,dxe5', 'd6,exd6,e7', 'https://lichess.org/training/ZjQl1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zjr5n', 'Blitz', 'alimente', 2413, 'FM ahlawy2', 2421, 'c4,e5,Nc3,Nc6,g3,f5,Bg2,Nf6,d3,Bc5,Bg5,d6,Nf3,O-O,Nd5,e4,Bxf6,gxf6,Nh4,exd3,Qxd3,Ne5,Qc2,c6,Nf4,Qa5+,Kf1,Bd7,Nxf5,Bxf5,Qxf5,Qb4,b3,Rae8,Be4,Rf7,Kg2,Nd7,Nh5,d5,Qg4+,Kh8,Bf5,Ne5,Qh4,Ref8,Nxf6,dxc4,Nxh7,cxb3,g4,Rxf5,Ng5+,Kg7,Qh7+,Kf6,Qxf5+,Ke7,Qxe5+,Kd7,Rad1+,Kc8,Ne4,bxa2,f3,Be7,Qe6+,Kb8,Rd7,Qb2,Re1,Bb4,Qe5+,Ka8,Re7', 'Qxe5,Rxe5,Bxe1', 'https://lichess.org/training/zjr5n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJRle', 'Classical', 'Rankler', 1751, 'MathsMaths0', 1713, 'e4,c6,d4,d5,e5,Bf5,Nf3,Nd7,Be2,e6,Nh4,Bg6,Nxg6,hxg6,Be3,c5,c3,cxd4,Bxd4,Bc5,Bb5,Bxd4,Qxd4,Ne7,Nd2,Nf5,Qf4,a6,Bxd7+,Qxd7,Nf3,Qb5,Qb4,Qxb4,cxb4,O-O-O,O-O-O,Nh4,Ng5,Rd7,g3,Nf5,Kb1,Kb8,g4,Ne7,Nxf7,Rf8,Nd6,Rxf2,Rdf1,Rxf1+,Rxf1,Nc6,b5,Nxe5,bxa6', 'Rxd6,Rf8+,Ka7', 'https://lichess.org/training/ZJRle');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zjtB5', 'Rapid', 'Bikovic', 1748, 'lolabalola', 1732, 'e4,f6,Nf3,e5,Nc3,Bc5,d4,exd4,Nxd4,d5,Qh5+,g6,Qxd5,Qxd5', 'Nxd5,Bxd4,Nxc7+', 'https://lichess.org/training/zjtB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZjTkG', 'Rapid', 'alirafid_ak', 1761, 'BenX01', 1752, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,d6,f4,Nf6,Nc3,g6,Nf3,Bg7,Bd3,O-O,Bd2,Ng4,Qe2,Nd4,Nxd4,Bxd4,O-O-O,Nf2,Rdf1,Nxh1,Rxh1,Bg7,g4,a5,h4,a4,h5,c6,hxg6,fxg6,Qh2,Kf7,f5,b5,fxg6+,hxg6,e5,Bxe5,Rf1+,Ke8', 'Bxg6+,Kd7,Qh7+', 'https://lichess.org/training/ZjTkG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJUNh', 'Classical', 'newagear', 1675, 'teo1966', 1668, 'g4,d5,Bg2,c6,c4,Bxg4,cxd5,cxd5,Qb3,Bd7,Bxd5,e6,Bxb7,Bc6,Bxa8,Bxh1,Bxh1,Nf6,Qb5+,Nfd7,Bc6,Nxc6,Qxc6,Bc5,Nc3,O-O,d3,Bb6,Be3,Bxe3,fxe3,Ne5,Qg2,f5,O-O-O,Ng4,Qg3,Qb6,e4,Rb8,Rd2,a5,exf5,exf5,Nf3,Rc8,Rc2,Qe3+,Kd1,Nf2+,Ke1,Nxd3+,Kf1,f4,Qg1,Qxg1+,Nxg1,Ne5,Nf3,Nc4,Nd4,Ne3+,Ke1,Nxc2+,Nxc2,Rb8,b3,Rc8,Kd2,Rd8+,Ke1,Re8,Kf2', 'Rc8,Na3,Rxc3', 'https://lichess.org/training/ZJUNh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZjvbE', 'Rapid', 'carlosp951', 1673, 'Feodor5', 1613, 'Nf3,c6,d3,d5,Nbd2,g6,c4,Bg7,a3,Nf6,g3,O-O,Bg2,Qb6,Rb1,Nbd7,O-O,e5,b4,Qc7,Qb3,e4,dxe4,dxe4,Ng5,Re8,Ngxe4,Nxe4,Nxe4,Nf6,Nxf6+,Bxf6,e3,Bf5,e4,Bxe4,Bxe4,Rxe4,Bf4,Qe7,c5,Bg7,Bd6,Qe8,Rbd1,Rd8,Bf4,Rxd1,Rxd1,Re2,Be3,Qe4,Qd3', 'Re1+,Qf1,Rxf1+', 'https://lichess.org/training/ZjvbE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zjvh7', 'Blitz', 'Shadow_Crow', 1679, 'DE1123', 1694, 'e4,c5,Nf3,Nc6,d3,e6,Nbd2,Nf6,c3,Be7,g3,O-O,Bg2,d5,e5,Nd7,d4,cxd4,cxd4,Bb4,O-O,f5,Nb3,Qb6,a3,Be7,Be3,Qc7,Rc1,h6,Qd2,Kh7,Rc2,Nb6,Ng5+,Bxg5,Bxg5,Nc4,Qf4,a5,Nc5,b5,Nd3,b4,axb4,axb4,Qh4,b3,Rcc1,Qb6,Nf4,Nxd4,Rxc4,dxc4,Bxa8,Nf3+,Bxf3,Qd4,Bxh6,Kg8,Qg5,Qxe5,Nh5,Rf7,Kg2,Bb7,Rd1,Bxf3+,Kh3,Bg4+,Kh4,Bxd1,f4,Qd4,Bxg7,Rxg7,Nf6+,Kh8', 'Qh6+,Rh7,Qxh7#', 'https://lichess.org/training/zjvh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJVnR', 'Rapid', 'force342', 1871, 'sandrusa123', 1923, 'Nf3,c5,c4,Nc6,Nc3,b6,g3,Bb7,Bg2,h5,h4,e5,Nxe5,Nxe5,Bxb7,Rb8,Bg2,Nxc4,O-O,g6,d3,Na5,Nb5,a6,Nc3,Bg7,Rb1,Ne7,Bg5,f6,Bf4,d6,Qa4+,Kf8,Ne4,b5,Qc2,Nb7,Nxd6,Nxd6,Qxc5,Rb6,Rfc1,Bh6,Bxh6+,Rxh6,Qb4,Kg7,Rc2,Rh8,Rbc1,Rf8,Rc7,Rf7,Qb3,Nc4,Rxe7,Rxe7,dxc4,Rxe2,cxb5,Qd4,Rc7+,Kh6,Qf3,Rxb2,bxa6,Rxa6,a3,Rxa3,Qxa3', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/ZJVnR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zJwDL', 'Rapid', 'Tatocr', 1700, 'sighi67', 1748, 'e4,e5,f4,exf4,Nf3,Bd6,Bc4,Ne7,O-O,O-O,d4,Ng6,e5,Be7,Nc3,c6,Ne4,d5,exd6,Bxd6,Nfg5,h6,Nf3,Bg4,Nxd6,Qxd6,c3,b5,Bb3,a5,a3,a4,Ba2,Be6,Bxe6,fxe6,Qd3,e5,c4,c5,d5,Nc6,cxb5,Nd4,Nxd4,exd4,Qf3,Rf6,Bd2,Rd8,Ba5,Rd7,b6,Qxd5', 'Qxd5+,Rxd5,b7,Rf8,Bc7', 'https://lichess.org/training/zJwDL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZjWpa', 'Rapid', 'messiasitaq', 1616, 'Cardenial', 1603, 'e4,e5,Qf3,Nc6,c3,Bc5,Ne2,Nf6,d4,exd4,cxd4,Nxd4,Nxd4,Bxd4,Bc4,O-O,O-O,d6,Na3,Bg4,Qg3,Qd7,Nb5,Be5,Qe3,a6,Nd4,Rfe8,f3,Be6,Nxe6,fxe6,Rb1,c5,b3,Bd4,b4,Bxe3+,Bxe3,d5,Rbd1,Rad8,bxc5,Qa4,Bb3,Qb5,exd5,Rxd5,Bxd5,Nxd5,Bf2,b6,Rb1,Qd7,cxb6,Rb8,g3,Nxb6,Bxb6,Qb7,Rfd1,Qxf3,Re1,Rxb6,Rxb6,a5', 'Rb8+,Kf7,Rf1', 'https://lichess.org/training/ZjWpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZjYsV', 'Rapid', 'Antonich', 1950, 'pronet360', 2020, 'e4,c5,Nf3,d6,Bb5+,Nc6,O-O,Qc7,d4,cxd4,Nxd4,a6,Ba4,b5,Bb3,Nf6,Nc3,g6,Nd5,Nxd5,Bxd5,Bb7,c3,Bg7,Nxc6,Bxc6,Be3,e6,Bxc6+,Qxc6,f3,O-O,Qd2,f5,exf5,exf5,Rfd1,Rad8,Qd5+,Qxd5,Rxd5,f4,Bb6,Rd7,Rad1,Be5', 'Rxe5,dxe5,Rxd7', 'https://lichess.org/training/ZjYsV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJz0A', 'Rapid', 'Dkhalaf', 2104, 'barukh', 2094, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,f3,Be6,Qd2,O-O,g4,Nbd7,O-O-O,b5,Nd5,Bxd5,exd5,Nb6,Bxb6,Qxb6,h4,a5,h5,a4,Na1,Rfc8,g5,Nd7,Bd3,b4,g6,fxg6,h6,gxh6,Qxh6,Nf6', 'Bxg6,Bf8,Bxh7+', 'https://lichess.org/training/ZJz0A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZJzTz', 'Rapid', 'David_shirdeli', 2143, 'sultan10', 1820, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,h6,c3,O-O,Be3,Bb6,a3,d6,Nbd2,Ne7,Bxb6,axb6,d4,Ng6,dxe5,dxe5,Qe2,Nf4,Qe1,N6h5,Nxe5,Qg5,g3,Qxe5,gxf4,Nxf4,Nf3,Qf6,Kh1,Bh3,Rg1,Rad8,e5,Qf5,Nd4,Rxd4,cxd4,Nd3,Bxd3', 'Qf3+,Rg2,Qxg2#', 'https://lichess.org/training/ZJzTz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zk3y9', 'Blitz', 'FM Doubleb17', 2492, 'VladmirCortelinho', 2374, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,O-O,h3,Nb8,d3,Nbd7,Nbd2,Bb7,Nf1,Nc5,Bc2,Re8,Ng3,Bf8,Nh2,d5,exd5,Nxd5,d4,exd4,cxd4,Rxe1+,Qxe1,Ne6,Qe4,g6,Nf3,Rb8,Qg4,Bg7,Bd2,h5,Nxh5,gxh5,Qxh5,Qf6,Ng5,Nef4,Qh7+,Kf8,Qh4,Qh6,Qg4,Bc8,Bf5,Bxf5,Qxf5,Qg6,Qg4,f5,Qh4,Bf6,Bxf4,Nxf4,Nh7+,Kf7,Qxf6+,Qxf6,Nxf6,Kxf6,Kf1,Rd8,Rd1,Rd7,h4,Nd5,g3,f4,Kg2,fxg3,Kxg3,Kg6,f4,Rg7,Kg4,Kf6+,Kf3,Kf5,Re1,Nf6,Re5+,Kg6,f5+,Kf7,Re6,Ng4,Rg6,Nh2+,Kg2,Rxg6+', 'fxg6+,Kxg6,Kxh2', 'https://lichess.org/training/zk3y9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zk4MF', 'Blitz', 'bhibhoy', 1824, 'krarorah', 1826, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nf5,Bxf5,exf5,Nf6,Bd3,Be7,Nc3,Nc6,Be3,Nd4,Qd2,O-O,h3,a6,g4,b5,a3,Rb8,g5,Nd7,Be2,b4,axb4,Rxb4,h4,Nxf5,Bd3,Nxe3,fxe3,Rxb2,Rxa6,Nc5,Ne4,Nxe4,Bxe4,Rb1+,Ke2,Rxh1,Qd3,Rh2+,Kf3,Qc7,Bxh7+,Kh8,g6,f6,h5,Qb7+,Kg4,Qg2+,Kf5,Qh3+,Ke4,Rc8,Ra7,Qg4+,Kd5,Rhxc2,Rxe7,Qc4+,Qxc4,R2xc4,Kxd6,R4c6+,Kd7,R6c7+,Ke6,Rxe7+,Kxe7,Rc3,Kf7,Rxe3', 'h6,gxh6,g7+,Kxh7,g8=Q#', 'https://lichess.org/training/Zk4MF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZK4S4', 'Classical', 'obedjc', 1652, 'rv2625', 1650, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,Nf6,e5,Nd7,e6,fxe6,Bxe6,Nf6,Bb3,Bg4,O-O,Nd4,Ba4+,b5,Nxd4,Bxd1,Nxb5,Nd7,Re1,Bg4', 'Nxd6#', 'https://lichess.org/training/ZK4S4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZK5sJ', 'Rapid', 'SAE56', 1829, 'a102039', 1871, 'e4,b6,d4,Bb7,d5,Nf6,Nd2,c6,c4,e6,Qf3,exd5,cxd5,cxd5,Bd3,dxe4,Nxe4,Bb4+,Bd2,Bxd2+,Kxd2,Nc6,Nxf6+,gxf6,Re1+,Kf8,Be4,Nd4', 'Qa3+,d6,Bxb7', 'https://lichess.org/training/ZK5sJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zK635', 'Rapid', 'SEVMUT_76', 1921, 'HamHockJinn', 2035, 'e4,d6,d4,Nf6,Nc3,c6,f4,g6,Nf3,Bg7,Bc4,O-O,Bd2,Nxe4,Nxe4,d5,Bb3,dxe4,Ne5,Qxd4,Qe2,Nd7,O-O-O,Nxe5,fxe5,Qxe5,Bc3,Qf4+,Bd2,Qc7,Qxe4,Bf5,Qh4,a5,a3,Rfd8,Bf4,Qb6,Qxe7,Rf8,Be3,Qb5,Bd4,Rae8', 'Bxf7+,Rxf7,Qxe8+', 'https://lichess.org/training/zK635');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZK8Qc', 'Blitz', 'tonaka', 1722, 'Rustam_Hidayat', 1730, 'd4,Nf6,Nc3,d5,e3,e6,Bd3,Bb4,Bd2,O-O,a3,Ba5,Nf3,Nbd7,b4,Bb6,O-O,c6,Qe2,a5,e4,axb4,axb4,Rxa1,Rxa1,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qh4,Re8,Bg5,h6,Bxh6,gxh6,Qxh6,Bxd4,Ng5,Bxa1', 'Bh7+,Nxh7,Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/ZK8Qc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZKa9f', 'Blitz', 'Alec7', 2015, 'binosebastian', 2019, 'd4,f5,c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,d6,O-O,Qe8,Ng5,h6,Nf3,c6,Qb3,Kh7,Nh4,e5,e3,e4,Bh1,g5,Ng2,Nbd7,f4,g4,Nh4,Rg8,Nxf5,Nf8,Nxd6,Qe7,Ndxe4,Nxe4,Nxe4,Bf5,Nc5,b6,Nd3,h5,Bxc6,Rc8,Bg2,h4,Nf2,hxg3,hxg3,Kg6,e4,Bd7,Qd3,Nh7,e5+,Bf5,Be4,Rgf8,Bxf5+,Rxf5,Nxg4,Rh8,Ne3,Rf8,g4,Qh4,gxf5+,Kf7,e6+,Ke8,Qe4,Nf6,Qa8+,Ke7,Qxa7+,Kd6,Qxb6+,Ke7,Qc5+,Ke8,Qc6+,Ke7,Nd5+,Nxd5,Qxd5,Bxd4+,Qxd4', 'Rg8+,Qg7+,Rxg7#', 'https://lichess.org/training/ZKa9f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zkAwB', 'Rapid', 'Saramatas', 1907, 'Cats_LifeMatters', 1807, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,d4,b5,Bb3,Bg4,dxe5,dxe5,Qxd8+,Rxd8,h3,Bh5,Nc3,Bb4,Nd5,Nxd5,Bxd5,Bxf3,Bxc6+,Ke7,gxf3,Rd6,Bd5,Rhd8,a3,Bc5,Be3,Bxe3,fxe3,c6,Bb3,Rd2,Rf2,f6,Rxd2,Rxd2,Rb1,h5,c4,Rd3,Ba2,Rxe3,cxb5,cxb5,Kg2,Re2+,Kg3,g5,h4,f5,hxg5,f4+,Kh4', 'Rh2#', 'https://lichess.org/training/zkAwB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zkaZe', 'Rapid', 'Lucertolo', 1975, 'pavanvashi7', 1967, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nc3,Nxd4,Bxd7+,Qxd7,Qxd4,c5,Qd3,O-O-O,Bf4,h6,O-O-O,Nf6,f3,Qe6,Nb5,Qxa2,Nxd6+,Bxd6,Bxd6,Nd7,Qc3,b6,Qb3,Qxb3,cxb3,Rhe8,Kc2,Kb7,Bg3,Kc6,Rd2,Ne5', 'Rxd8,Rxd8,Bxe5', 'https://lichess.org/training/zkaZe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zKCrF', 'Blitz', 'BOUN-BilalAytekin', 2072, 'WFM sisinyo7', 2200, 'e4,e5,Nc3,Nc6,Bc4,Nf6,Nf3,d6,O-O,Be7,h3,O-O,d3,h6,Be3,Be6,Nd5,Nd4,Nxd4,exd4,Bxd4,c6,Nxe7+,Qxe7,Bxf6,Qxf6,Bb3,Qg6,Bxe6,fxe6,f4,Qf6,c3,Rae8,d4,Qg6,Qe2,Qg3,Rf3,Qh4,Raf1,Rf6,e5,dxe5,fxe5,Rg6,Qf2,Qe4,Rf8+,Rxf8,Qxf8+,Kh7,Qf3,Qc2,Rf2,Qb1+,Kh2,Qxa2,Qe4,Qa1,h4,h5,g4,Qd1,gxh5', 'Qg1+,Kh3,Qg3#', 'https://lichess.org/training/zKCrF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZKE0s', 'Blitz', 'Popolovu3000', 1828, 'hbrdshr', 1837, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,Nxd4,Qxd4,Ne7,Be3,Nc6,Qd2,a6,O-O-O,Bb4,a3,Ba5,f3,Qe7,Kb1,b5,b4,Nxb4,axb4,Qxb4+,Ka2,Qxc3,Qxc3,Bxc3,Bc5,b4,Kb3,a5,Bb5,f6,Ba4,Kf7,Bxd7,Rd8,Ba4,Rxd1,Rxd1,Kg6,f4,h5,h4,f5,exf5+,Kxf5,Bc6,Ra6,Bb5,Ra8,Bd3+,Kxf4,Bd6+,Kg4,Be2+,Kxh4,Bf4,e5', 'Rh1+,Bh3,g3#', 'https://lichess.org/training/ZKE0s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkEoK', 'Rapid', 'prakashman123', 1617, 'YaV', 1606, 'e4,c5,Nf3,d6,Nc3,a6,a3,Nf6,Bc4,b5,Ba2,Nc6,Nd5,e6,Nxf6+,Qxf6,c4,Bb7,d3,h6,Qe2,Qd8,O-O,Be7,e5,O-O,Bd2,f5,exf6,Bxf6,Qxe6+,Kh8,Bc3,Nd4,Bxd4,cxd4,Rae1,Bxf3,gxf3,Be5,Rxe5,dxe5,Qxe5,Qh4,Qg3,Qxg3+,fxg3,bxc4,Bxc4,a5,a4,Rae8,Bd5,Re2,b3,Re3,Be4,Rb8,Rc1,Kg8,Rc4,Rxb3', 'Rc8+,Kf7,Bd5+,Ke7,Bxb3', 'https://lichess.org/training/ZkEoK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZKfbA', 'Rapid', 'physical', 1656, 'semih2010', 1748, 'c4,e5,e4,Nc6,Nf3,d6,d3,h6,Nc3,Be6,Be2,Nf6,b3,Be7,Ba3,O-O,Nd2,Qd7,O-O,Nd4,Nd5,Nxe2+,Qxe2,Nxd5,cxd5,Bg4,Nf3,f5,h3,Bh5,Qe3,f4,Qe2,Rf6,Kh1,Rg6,Rg1,Rf8,Kh2,Rff6,g4,Bxg4,hxg4,Rxg4,Rxg4,Qxg4,Rg1,Qh5+,Kg2,Rg6+,Kf1,Qh3+,Ke1,Rxg1+,Nxg1,Qh2,Nf3,Qh1+,Kd2,Bh4,d4,exd4,Nxd4,Qa1,Kd3,Bf6,Qb2', 'Qd1+,Qd2,Qxd2+,Kxd2,Bxd4', 'https://lichess.org/training/ZKfbA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkfbJ', 'Rapid', 'mosa7777777', 1888, 'danangwijanarko', 1941, 'e4,e5,Qf3,Nf6,Bc4,Nc6,c3,d6,h3,h6,d3,a6,g4,b5,Bb3,g5,Ne2,Bg7,Ng3,Rf8,Nh5,Nxh5,gxh5,Be6,Rg1,Bxb3,axb3,Qe7,h4,Bf6,hxg5,hxg5,h6,O-O-O,h7,Kb8,Rxa6,Kb7,Ra1,b4,cxb4,Nxb4,Qe2,Rh8,Be3,Rxh7,Ra7+,Kc8,Nc3,Kd7,Nb5,Rc8,Bb6,Qe6,Bxc7,Qxb3,Bxd6+,Kd8,Bc7+,Kd7,Qg4+,Kc6,Qxc8,Nxd3+,Kf1,Qd1+,Kg2,Nf4+,Kg3,Qd3+,Kg4', 'Qh3#', 'https://lichess.org/training/ZkfbJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkfsA', 'Rapid', 'ahmadcatur', 1775, 'KillerHunter15', 1783, 'Nf3,Nf6,d4,d5,Nc3,e6,Bf4,c5,e3,cxd4,exd4,Bb4,a3,Bxc3+,bxc3,Qa5,Qd2,Ne4,Qe3,Nxc3,Qd2,Nc6,Bd3,Ne4,Qxa5,Nxa5,Bxe4,dxe4,Ne5,Nc6,Nxc6,bxc6,O-O,f5,Be5,O-O,c4,Ba6,Rfc1,Rfd8,c5,g5,h3,Rd7,g3,h5,Rab1,f4,gxf4,gxf4,Kh2,f3,Rc3,Kh7,Rg1,Rg8,Rxg8,Kxg8,Kg3,Kh7,Rb3,Bc4,Rb8,Kg6,Rg8+,Kf5,h4,Rb7', 'Rg5#', 'https://lichess.org/training/ZkfsA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zkGFd', 'Rapid', 'aticia', 2135, 'amir777', 1957, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,f6,dxe5,fxe5,Bxc6+,bxc6,Nxe5,dxe5,Qh5+,Ke7,Qxe5+,Be6,Be3,Nf6,Nc3,Kf7,Rd1,Bd6,Qa5,Rf8', 'e5,Ng4,exd6', 'https://lichess.org/training/zkGFd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zkh7t', 'Blitz', 'marsmelow', 1796, 'Vne_Moraly', 1904, 'f4,g5,f5,e6,fxe6,dxe6,Nf3,f5,e3,Bg7,Qe2,g4,Nd4,Nf6,Qc4,Nd5,Nc3,Bxd4,Qxd4,O-O,b3,Nc6,Qd3,Ne5,Qd4,Qh4+,g3,Nf3+,Kf2,Nxd4,gxh4,Nxc2,Rb1,f4,e4,Nxc3,dxc3,g3+,hxg3,fxg3+,Kxg3,Ne1,Bh6,Rf3+,Kh2,Rxc3,Bc4,Nf3+,Kg3,Nd2+,Kf4,Nxb1,Rxb1,c6,Rg1+,Kf7,Rg7+,Kf6', 'e5#', 'https://lichess.org/training/zkh7t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zkh9B', 'Rapid', 'itsmagic', 2066, 'ikek', 2057, 'e4,e5,c4,Bc5,g3,d6,Bg2,Nc6,d3,Nf6,h3,h5,Ne2,h4,g4,Nh7,Nbc3,Ng5,a3,Qf6,f4,exf4,Nxf4,Be6,Rf1,Qd4,Nb5,Qe5,Nxc7+,Kd7,Nxa8,Rxa8,Rb1,a5,b3,a4,b4,Bd4,b5,Bc3+,Bd2,Bxd2+,Qxd2,Nd4,Ne2,Nb3,Qf4,Qc5,d4,Qxa3,Qxg5,Qa2,Rd1,Bxc4,d5', 'Qxe2#', 'https://lichess.org/training/Zkh9B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkHUt', 'Rapid', 'alexander51', 1746, 'Redranger7168', 1650, 'e4,d5,g3,d4,Bg2,e5,c3,Nc6,cxd4,Nxd4,Ne2,Bg4,f3,Bxf3,Bxf3,Nxf3+,Kf2,Nd4,Kg2,Nf6,d3,Ng4', 'Nxd4,Qxd4,Qxg4', 'https://lichess.org/training/ZkHUt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZKIRs', 'Blitz', 'vonburgon', 1729, 'Serg_813', 1736, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be2,h5,Bg5,Bxf2+,Kxf2,Bg4,Bxf6,Qxf6+,Bf3,Bxf3,Qxf3,Qxb2,Nd2,Qxc2,Rad1,O-O-O,Rhf1,Rxd3,Qxf7,Rxd2+,Rxd2,Qxd2+,Kg1,Qe3+,Kh1,b5,Qe6+,Kb7,a4,b4,Qc4,c5,Qb5+,Kc8,Qa6+,Kb8,Qb5+,Kc8,Qc6,Rd8,a5,Rd2,Rf8+,Rd8,Qe6+,Kb7', 'a6+,Kb8,Rxd8#', 'https://lichess.org/training/ZKIRs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zkj5c', 'Rapid', 'ZINVOR', 2060, 'mic_7902', 1840, 'd4,c5,c3,cxd4,cxd4,d5,Bf4,e6,e3,Nf6,a3,Bd6,Bg5,O-O,Nf3,h6,Bh4,Be7,Nc3,Ne4,Nxe4,dxe4,Bxe7,Qxe7,Ne5,Nd7,Nc4,f5,Be2,b6,O-O,Bb7,b4,Bd5,Nd2,Qg5,Rc1,f4,exf4,Rxf4,g3,Rh4,Rc7,Nf6,Bc4,Rxh2,Kxh2,Ng4+,Kg2,e3+,Nf3,exf2,Bxd5', 'Ne3+,Kxf2,Nxd1+,Rxd1,Qxd5', 'https://lichess.org/training/Zkj5c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zkj7e', 'Rapid', 'Hellhest', 1730, 'HasanPH4', 1643, 'e4,c5,Nc3,a6,d4,cxd4,Qxd4,Nc6,Qd1,e6,Nf3,Nf6,Bg5,Be7,Bc4,O-O,O-O,d5,exd5,exd5,Bxd5,Nxd5,Bxe7,Ndxe7,Qe2,b5,Rad1,Qc7,Qe4,Bb7,Ng5,Ng6,Nd5,Qb8,Qf3,Nce5,Qh3,h6,Ne4,Bc8,Qc3,a5,f4,b4,Qg3,Qa7+,Rf2,Nc4,b3,Re8,Qf3,Na3,f5,Nh4,Qf4,Nxf5,Ng3,Nxg3,Qxf7+,Kh7', 'Nf6+,Kh8,Qxe8#', 'https://lichess.org/training/zkj7e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zKkbr', 'Rapid', 'Lead2000', 1854, 'The_Kenosha_Kid', 1881, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,e3,Be7,Nf3,Nbd7,cxd5,exd5,Bd3,O-O,Qc2,h6,Bh4,c5,O-O,c4,Be2,a6,a4,Re8,Bg3,Nb8,Ne5,Bd6,f4,Ne4,Nxe4,dxe4,Nxc4,Nc6,Ne5,Nb4,Qxe4,f6,Bd3,Nxd3,Qxd3,fxe5,fxe5,Bxe5,Qb3+,Be6,Qxb7,Bxg3,hxg3,Qg5,Qf3,Rf8,Qc6,Qxe3+,Kh2,Rxf1,Rxf1,Rc8,Qxa6,Qe4,Rf4,Qd5,b4,Rc2,Qf1,Qh5+,Kg1,Bd5', 'Rf8+,Kh7,Qd3+,Qg6,Rh8+,Kxh8,Qxg6,Rxg2+,Kf1', 'https://lichess.org/training/zKkbr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkMCG', 'Blitz', 'CM Itachi2096', 2397, 'aibar18', 2398, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Nbd2,Bxf4,exf4,b6,c3,O-O,Bd3,Ba6,Bxa6,Nxa6,O-O,c5,Re1,Nc7,Qe2,Nce8,dxc5,bxc5,Nb3,Qc7,Qe3,Rc8,Ne5,Nd6,f3,a5,a4,Nf5,Qf2,Ne8,Qe2,Rb8,Ra3,Rb6,Qf2,c4,Nxa5,f6,Nec6,Rxc6,Nxc6,Qxc6,a5,Ned6,a6,Nb5,Ra5,Ra8,a7,d4,Qc2,d3,Qa4,Qb6+,Kh1,d2,Rd1,Qe3,Rxb5', 'Qe1+,Rxe1,dxe1=Q#', 'https://lichess.org/training/ZkMCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZKmDP', 'Rapid', 'Nat_Subaru', 2016, 'TomTheTerror', 2065, 'd4,Nf6,Bf4,e6,Nf3,c5,e3,Nc6,c3,cxd4,exd4,d5,Bd3,Bd6,Ne5,h6,Nd2,Qc7,Qe2,Bxe5,Bxe5,Nxe5,dxe5,Nd7,f4,b6,O-O,a5,Kh1,Bb7,a4,O-O,Rf3,d4,Rh3,dxc3,bxc3,Qxc3', 'Bh7+,Kxh7,Rxc3', 'https://lichess.org/training/ZKmDP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkMrz', 'Rapid', 'Theodoros_60', 1766, 'Rndrps', 1897, 'c4,c6,e4,d5,cxd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,exd5,Qxd5,Nc3,Qxg2,Qf3,Qxf3,Nxf3,Nc6,Nd5,O-O-O,Ne3,f6,O-O,e5,Nh4,g6,a3,Bg7,b4,a6,Rb1,Nd4,Re1,Bh6,Kg2,Kb8,Bb2,Ne7,Bxd4,Rxd4,Nf3,Rd3,b5,Rxa3,bxa6,Rxa6,Rb3,Rd8,Reb1,Rd7,Nc4,Nc6,Rb6,Rxb6,Nxb6,Rd3,Nc4,Kc7,Rb2,e4,Ne1,Rd4,Ne3,Bg7,Rc2,f5,h3,Bh6,Nf1,Kd6,Ne3,Bxe3,fxe3,Rb4,Kg3,b5,Kf4,h6,h4,Ne7,Ra2,Ra4,Rb2,b4,Nc2,Kc5,Nd4,Ra1', 'Nb3+,Kd6,Nxa1', 'https://lichess.org/training/ZkMrz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zKn3q', 'Rapid', 'val1970', 1697, 'Mr-MAN0', 1709, 'd4,d5,e4,e5,dxe5,dxe4,Qxd8+,Kxd8,Nc3,Bb4,Bg5+,Ke8,O-O-O,Ne7,Nxe4,Bf5,Bd3,Bxe4,Bxe4,c6,Nf3,Nd7,Rd3,f5,exf6,gxf6,Bh4,Ne5,Bxf6,Nxd3+,Bxd3,Rf8,Bh4,Ng6,Bg3,Rd8,c3,Bc5,Kc2,Nf4,Re1+,Kd7,Ne5+,Kc7,Bxh7,Nxg2,Ng6+,Bd6,Re7+,Kc8,Bxd6,Rxf2+,Kb3,Rxd6,Ne5,Rd5,Re8+,Kc7,Nc4,Rf7,Bg8,Rb5+,Ka3,Rg7,Be6,Rd7,Bxd7,Kxd7,Rg8,Nf4,Rg7+,Ke6,b4,Nd3,Rg6+,Kd5,Ne3+,Ke4,Re6+,Kf3,Kb3', 'Nc5+,Kc2,Nxe6', 'https://lichess.org/training/zKn3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkNAP', 'Rapid', 'Baxo', 1945, 'Pudex', 1886, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d3,h6,O-O,Bc5,h3,O-O,a3,d6,Nc3,a6,Bd2,Ne7,Qc1,Kh7,Be3,Bxe3,Qxe3,Be6,Bxe6,fxe6,Nh2,Ng6,Ne2,d5,f4,exf4,Nxf4,Nxf4,Rxf4,e5,Rf5,d4,Qd2,Nd7,Raf1,Rxf5,Rxf5,Qe7,Ng4,Rf8,Qf2,Rxf5,Qxf5+,g6', 'Qxd7,Qxd7,Nf6+,Kh8,Nxd7', 'https://lichess.org/training/ZkNAP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkNmh', 'Rapid', 'deyan70', 1780, 'R22Cosh', 1792, 'e4,c6,c4,d5,cxd5,cxd5,e5,a6,d4,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Ne7,O-O,Nf5,Bf4,Nc6,Nbd2,Rc8,Rac1,Bb4,a3,Bxd2,Qxd2,O-O,g4,Nh4,Nxh4,Qxh4,f3,Ne7', 'Bg5,Qh3,Bxe7', 'https://lichess.org/training/ZkNmh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZknVN', 'Rapid', 'sigi1', 1912, 'joeb79', 1853, 'e4,e5,d3,Nf6,c4,Nc6,f4,d6,Nf3,Bg4,Be2,Nd4,O-O,h5,Nxd4,exd4,h3,c5,Nd2,Qe7,b3,O-O-O,a4,a5,Nf3,b6,Bd2,Bd7,Qe1,Ng4,f5,Ne3,Bxe3,dxe3,Qg3,g5,fxg6,fxg6,Ng5,Be8,Qxe3,Bh6,Qf3,Bxg5,e5,Qe6', 'Qa8+,Kc7,Qa7+', 'https://lichess.org/training/ZknVN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkNZk', 'Rapid', 'sicilianhomme', 1709, 'paulychromatic', 1708, 'e4,e5,Nf3,d6,g3,Bg4,Bg2,Nc6,O-O,Nd4,c3,Nxf3+,Bxf3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,d4,O-O-O,f3,h5,Be3,exd4,cxd4,b6,d5,Kb7,Nc3,c5,dxc6+,Kxc6,Rac1,Kb7,a4,d5,exd5,Nxd5,Nxd5,Rxd5,Bf4,Bc5+,Kg2,g5,Bd2,Rxd2+,Kh3,Rxb2,a5,g4+,fxg4,hxg4+,Kxg4,Rbxh2,Rxf7+,Ka6,axb6,axb6,Ra1+,Kb5,Rb1+,Kc6,Rf6+,Kd7,Rd1+,Ke7,Rg6,Kf7,Rg5,Rg8,Rd7+,Kf6,Rxg8,Ke6,Rdg7,Bd4,Rg6+,Kf7,Kf3,Rf2+,Ke4,Bf6,Ke3,Rf5,Rg4,Re5+,Kf4,Rc5,Rb8', 'Be5+,Ke3,Bxb8', 'https://lichess.org/training/ZkNZk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zKoLC', 'Classical', 'termnus', 1659, 'kafula', 1723, 'e4,e5,Nf3,d6,Bc4,Be7,a3,Nf6,d3,O-O,Bd2,h6,Qc1,Kh7,Nc3,Ng8,Qb1,f5,Qa2,f4,g3,Bg4,Ng1,fxg3,fxg3,Nf6,h3,Bd7,O-O-O,a6,g4,b5,Bb3,c5,g5,Nh5,gxh6,g6,Nd5,Bg5,Ne2,Bxh6,Bxh6,Kxh6,Rdg1,Rf2,Ng3', 'Qg5+,Kb1,Nxg3', 'https://lichess.org/training/zKoLC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZKP5A', 'Classical', 'ekremmd', 1961, 'Mohammed122002', 1981, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,d6,O-O,Bg4,d4,g6,Bxf4,Bg7,c3,Nge7,Bg5,O-O,b4,a6,Nbd2,b5,Bd5,Qd7,Bb3,a5,a3,a4,Ba2,Nd8,Qc2,Ne6,Be3,f5,exf5,Bxf5,Qd1,Kh8,Nh4,Ng8,Nxf5,Rxf5,Rxf5,gxf5,Qh5,Re8,Nf3,Bf6,Qxf5,Nf8,Qf4', 'Ng6,Qg3,Rxe3', 'https://lichess.org/training/ZKP5A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZKqX4', 'Rapid', 'N00Name', 1743, 'Juergen810', 1737, 'd4,d5,c4,Nc6,Bf4,Bf5,Nc3,e6,Nf3,Bb4,a3,Bxc3+,bxc3,Nf6,c5,O-O,e3,Ne4,Qc1,b6,cxb6,axb6,Bd3,Na5,Qc2,Nc4,h3,h6,g4,Bh7,Ne5,g5,Bh2,Nxe5,dxe5,c5,f3,c4,Bxe4,dxe4,f4,gxf4,Bxf4,Kg7,h4,Qd3,Qb2,Ra6,Rd1,Rfa8,Rxd3,cxd3,O-O,Rxa3,g5,h5,Bg3,Bg6,Rc1,Ra2,Qb3,Re2,Be1,Raa2,Kf1,Rac2,Rd1,Rb2,Qa3,Ra2,Qb3,Reb2,Qc4,b5,Qc6,Rc2,Qxb5,d2,Bxd2,Rxd2,Rb1,Rf2+,Ke1,Rae2+,Qxe2,Rxe2+,Kxe2,Bf5,c4,Kf8,c5,Ke7,Rd1', 'Bg4+,Ke1,Bxd1,Kxd1,Kd7,Kd2,Kc6,Kc3,Kxc5', 'https://lichess.org/training/ZKqX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zkrca', 'Rapid', 'Fowz_2078', 1662, 'ManueldeReyes', 1733, 'd4,d5,Bf4,Nc6,e3,Nf6,c4,Ne4,Bd3,f5,a3,Be6,Nc3,Nxc3,bxc3,dxc4,Bc2,h6,h3,g5,Bh2,Bd5,f3,e6,Qb1,Na5,Qb5+,c6,Qb1,c5,e4,fxe4,fxe4,Bc6,Be5,Rh7,d5,exd5,exd5,Re7,dxc6,Rxe5+,Ne2,Qe7,Bd1,Nxc6,Qg6+,Qf7,Qxf7+,Kxf7,O-O+,Ke7,Ng3,Kd7,Bg4+,Kc7,Rf7+,Re7,Raf1,Rxf7,Rxf7+,Kb6,Nf5,Ka5,Rxb7,Ne5,Be2,Ka4,Ne3,Kxa3,Nxc4+,Nxc4,Bxc4,a5', 'Rb3+,Ka2,Rb8+,Ka1,Rxa8', 'https://lichess.org/training/Zkrca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZKSFU', 'Rapid', 'Artwell', 1870, 'Paws4thought', 1883, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,c5,Ne2,O-O,O-O,Nc6,Be3,Na5,Bd3,Bg4,f3,Bd7,Rb1,Qc7,dxc5,Nc6,Bd4,Nxd4,cxd4,Rfd8,Bc4,a6,Qb3,e6,Qxb7,Qxb7,Rxb7,Bc6,Rb6,Bb5,Bxb5,axb5,e5,Rxa2,Nc3,Rd2,Nxb5,Rb2,Rd6,Rb8,Nc3,Rc2,Ne4,Bh6,f4,Rbb2,Nf6+,Kg7,Ng4', 'Rxg2+,Kh1,Rxg4', 'https://lichess.org/training/ZKSFU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkUcZ', 'Rapid', 'PascalG96', 2074, 'gamalmousa', 1989, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Bc4,Nc6,O-O,a6,a4,Qe7,Rab1,Rd8,d5,exd5,Bxd5,Bg4,Qf4,Bxf3,Qxf3,Rab8,Rfd1,Ne5,Qb3,b5,f4,Qc5+,Kh1,Ng4,Bxf7+,Kh8,Rxd8+,Rxd8,h3,Nf2+,Kh2,Nxe4,Re1,Nf6,axb5,axb5,Re5,Qd4,Qf3,b4,Bb3,h6,Re3,Rc8,Be6,Rc3,Qa8+,Kh7', 'Bf5+,g6,Re7#', 'https://lichess.org/training/ZkUcZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zKWp5', 'Blitz', 'orestesking', 2048, 'pupi89', 2005, 'e4,g6,Nf3,Bg7,d4,d6,Nc3,Nd7,Bc4,e6,O-O,Ne7,Bg5,a6,d5,Nc5,dxe6,fxe6,Nd4,b5,Bb3,Bd7,f4,h6,Bh4,O-O,f5,Nxb3,axb3,exf5,exf5,g5,Bg3,Nxf5', 'Nxf5,Bxf5,Qd5+,Kh8,Rxf5', 'https://lichess.org/training/zKWp5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zKwsE', 'Rapid', 'georgegassenheimer', 1798, 'Cundang', 1777, 'e4,e5,f4,Qh4+,g3,Qe7,Nf3,Nc6,Bh3,d6,Bxc8,Rxc8,f5,Nf6,d3,Nd4,Nxd4,exd4,Bg5,Qe5,Nd2,Be7,Nc4,Qb5,Qd2,d5,a4,Qd7,Ne5,Qd6,Bf4,dxe4,Ng6,Qb4,Nxh8,exd3,c3', 'dxc3,Qxd3,cxb2+', 'https://lichess.org/training/zKwsE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkY3J', 'Blitz', 'FM nemtsevguru', 2319, 'xxoblivionxx', 2190, 'd4,Nc6,Nf3,d6,d5,Ne5,Nxe5,dxe5,e4,e6,c4,Nf6,Nc3,h6,Be2,Bb4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/ZkY3J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zkyvh', 'Rapid', 'aakash2222', 2074, 'CCD_2019', 2145, 'd4,d5,Nf3,Bf5,Bf4,e6,e3,c5,c3,cxd4,cxd4,Nc6,a3,Nf6,Bd3,Bxd3,Qxd3,h6,Nbd2,Bd6,Bg3,Bxg3,fxg3,Qd7,O-O,O-O,Rac1,Rac8,Ne5,Qe7,g4,Nd7,Ndf3,Ndxe5,dxe5,Nxe5,Nxe5,Qg5,Rxc8,Rxc8,Nxf7,Qxg4,Ne5,Qg5,Ng6,Rd8,h4,Qg3,Rf3,Qc7,Qd4,Re8,h5,e5,Qxe5,Qxe5,Nxe5,Rxe5,Rh3,Kf7,Kf2,Ke6,Rh4,b6,Ra4,a5,g4,Kf6,Rf4+,Kg5,Kf3,Re7,Rf5+,Kh4,Rxd5,Rf7+,Rf5,Rxf5+', 'gxf5,Kxh5,Kf4', 'https://lichess.org/training/zkyvh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zkZl3', 'Rapid', 'iobates', 2019, 'pagoda', 2167, 'c4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,e3,e5,Nge2,Nge7,O-O,O-O,d4,exd4,exd4,Nxd4,Nxd4,cxd4,Nb5,Nc6,Bf4,d5,Bxd5,Bh3,Re1,a6,Nd6,Qb6,Qf3,Bf5,g4,Bd7,Nxf7,Nb4,Ne5+,Be6,c5', 'Bxd5,Qxd5+,Nxd5', 'https://lichess.org/training/zkZl3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZkZLh', 'Blitz', 'FM carloseduar100', 2232, 'CarlosJuli', 2093, 'e4,c5,Nf3,d6,c3,Nf6,Bd3,Nc6,O-O,Bg4,Bc2,Ne5,d4,cxd4,cxd4,Nxf3+,gxf3,Bd7,Nc3,e6,Bg5,Be7,Kh1,O-O,Rg1,Kh8,Qd2,Rc8,Rg3,Nh5,Rg2,Bxg5,Rxg5,g6,Rag1,Qf6,Qe3,Nf4', 'e5,dxe5,dxe5,Qxg5,Rxg5', 'https://lichess.org/training/ZkZLh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZKzLJ', 'Rapid', 'Wojtaschess', 1870, 'MrkiMedo', 1933, 'd4,e6,c4,c6,Nc3,Bb4,Nf3,Bxc3+,bxc3,d6,e3,Qa5,Qc2,Ne7,Bd3,f5,O-O,Nd7,a4,Nf6,Nd2,Qc7,Ba3,Bd7,f4,O-O,Rab1,b6,h3,h6,e4,fxe4,Nxe4,Nxe4,Bxe4,d5,Bh7+,Kh8,Bxe7,Rxf4,c5,bxc5,dxc5,Qe5,Bd6,Qe3+,Kh1,Rxf1+,Rxf1,e5,Qf2,Qxf2,Rxf2,Kxh7,Bxe5,Re8,Bd4,Re1+,Kh2,Be8,Rf8,Bg6,Rf2,Ra1,Re2,Be4,Rf2,Kg6,h4,Rxa4,g4,h5,gxh5+,Kxh5,Bxg7,Ra1,Kh3', 'Rh1+,Kg3,Rg1+', 'https://lichess.org/training/ZKzLJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZL02b', 'Rapid', 'maurochess999', 1816, 'EXOprimal', 1723, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Be2,Nf6,d3,Be7,h3,O-O,O-O,Be6,Re1,Nc6,Nc3,a6,Bf4,Bd6,Bxd6,Qxd6,Qd2,b5,a3,Nd7,Nh2,Rfe8,Bg4,Bxg4,Nxg4,Nf6,Nxf6+,gxf6,Rxe8+,Rxe8,Re1,Rxe1+,Qxe1,d4,Ne4,Qe5,f4,Qxf4,Nxc5,Qe5,Ne4,f5,Qg3+,Qxg3,Nxg3,f4,Nh5,Kf8,Nxf4,Ke7,Kf2,Kd6,Kf3,Kc5,Ke4,b4,Nd5', 'f5+,Kxf5,Kxd5,axb4,Nxb4', 'https://lichess.org/training/ZL02b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zl0Bo', 'Rapid', 'steel18', 1671, 'Klabastermann', 1722, 'd4,d5,c4,c6,Nf3,Nf6,Bg5,h6,Bf4,g6,e3,Bg7,Nbd2,O-O,cxd5,cxd5,Bd3,Nc6,O-O,Bg4,h3,Bd7,Ne5,Nb4,Nxd7,Nxd7,Be2,Rc8,a3,Nc6,Nf3,g5,Bg3,f6,Bd3,h5,Bh2,g4,hxg4,hxg4,Nh4,Bh6,Nf5,Bg7,e4,dxe4,Bxe4,Qb6,b4,Rfd8,Nxe7+,Nxe7,Qxg4,Qxd4,Rfd1,Qb6,Bd6,f5,Bxf5,Nxf5,Ra2,Nxd6,Rad2,Nf6,Qe6+,Kh7,Rxd6,Rxd6,Rxd6,Rc1+,Kh2,Ng4+,Kh3,Qxf2', 'Qg6+,Kh8,Rd8+,Qf8,Rxf8+', 'https://lichess.org/training/zl0Bo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZL0oT', 'Rapid', 'neset_2014', 1788, 'Mr-Light1', 1889, 'd4,d5,Nf3,e6,e3,Bd6,Be2,Nf6,Nc3,O-O,Bd2,Ne4,Ne5,Nxd2,Qxd2,Nd7,Nxd7,Bxd7,O-O-O,Qg5,g3,a5,a4,Bb4,f4,Qf6,b3,c5,Kb2,Rac8,Bb5,cxd4,exd4,Bxc3+,Qxc3,Rxc3,Kxc3,Bxb5,axb5,Rc8+,Kb2,Rc5,c3,Rxb5,Ra1,b6,Ka3,Qf5,Rac1,Qd3,Rhe1,Qd2,h4,Kf8,Red1,Qe3,Rg1,Ke7,f5,Kd6,fxe6,f6,Rge1,Qd2', 'e7,Qxc1+,Rxc1', 'https://lichess.org/training/ZL0oT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zL1BK', 'Blitz', 'centroman', 1566, 'c4-pawn', 1601, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nf3,Be6,Be2,Nc6,O-O,Be7,Bg5,h6,Bh4,O-O,Bd3,Nb4,a3,Nxd3,Qxd3,Rc8,Rad1,Rc6,Bxf6,Bxf6,Nd5,Bxd5,Qxd5,Qb6,b4,Rfc8,Rd2,Qb5,Qxb5,axb5,Rfd1,Be7,Rd5,Rxc2,Rxb5,R8c7,a4,Ra2,a5,Rcc2,Rf1,Rc7,Rd1,Kf8,Rb6,Ke8,g3,Rb2,Rd5,Rcc2,Rxb7,Rxf2,Rb8+,Kd7,Rb7+,Ke6,a6,Rxf3,a7,Ra3,Ra5,Rb1+,Kg2,Rd3,a8=Q,Rb2+,Kh3,Rdd2,Rxe7+,Kxe7,Ra7+,Kf6,Qd8+,Kg6,Qe7', 'Rxh2+,Kg4,h5+,Kf3,Rb3#', 'https://lichess.org/training/zL1BK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZL1Ij', 'Rapid', 'mohamdsednawi', 2047, 'H4ldary', 1962, 'd4,g6,Nc3,Bg7,e4,d6,Bc4,e6,Be3,a6,f3,b5,Bd3,Nd7,Qd2,c5,dxc5,Nxc5,Nge2,b4,Nd1,a5,Bb5+,Bd7,Qxd6,Bxb5,Bxc5,Bxe2', 'Qc6+,Qd7,Qxa8+', 'https://lichess.org/training/ZL1Ij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zl3tw', 'Rapid', 'sodel', 2250, 'Arthana', 1959, 'e4,c5,Nf3,e6,c4,b6,Nc3,Bb7,Be2,a6,d4,cxd4,Nxd4,Bb4,Bf3,Bxc3+,bxc3,Qc7,Qd3,Ne7,O-O,Ng6,Be2,Nc6,Ba3,Nf4,Qe3,Nxe2+,Qxe2,Ne5,c5,bxc5,Nb3,c4,Nd4,d5,exd5,Bxd5,Rab1,f6,f4,Nd3,Nxe6,Qa7+,Kh1,Kf7,Nd4,Rhe8', 'Qh5+,Kg8,Qxd5+', 'https://lichess.org/training/Zl3tw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zl6h0', 'Blitz', 'hrrousso', 1807, 'PKN72', 1812, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Nf3,Be7,cxd5,exd5,Bd3,O-O,O-O,Nc6,Bg5,h6,Bh4,a6,a3,b5,Re1,Bb7,Ne5,Rc8,Nxc6,Rxc6,Qf3,Re8,Re2,Ne4,Bxe7,Rxe7,Rae1,Rf6,Qh3,Rfe6,Nxe4,dxe4,Bc2,Qxd4,Rd1,Qxb2,Rde1,Qd4,Rd1,Qe5,f3,Qc5+,Kh1,exf3', 'Rd8+,Re8,Rxe8+,Rxe8,Rxe8+', 'https://lichess.org/training/Zl6h0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZL7E4', 'Rapid', 'Barista73', 1731, 'yarigek007', 1692, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,Bg4,O-O,e6,h3,Bh5,g4,Bg6,Kg2,Be7,Ng5,h6,Nxe6,fxe6,Bxe6,Nc6,f4,Nd4,f5,Nxe6,fxg6,Qb6,b3,O-O-O,Qf3,Nd4,Qf2,Nd7,Nc3,Ne5', 'Nd5,Qb5,Nxe7+', 'https://lichess.org/training/ZL7E4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZL9B7', 'Blitz', 'thevalonqar1512', 1699, 'hiuz', 1684, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Bc4,Nc6,Nd5,Nxd5,exd5,Nd4,Nxe5,Qe7,O-O,b5,Bd3,O-O,Nf3,Nxf3+,Qxf3,Re8,h3,Bd6,g3,Bb7,b3,Qg5,Be4,Qh6,h4,Be7,d3,Qb6,Be3,Qd6,Bf4,Qc5,Qh5,g6,Qh6,Qxc2,Be5,f6,Bxc7,Qxc7,Bxg6,hxg6,Qxg6+,Kf8,Qh6+,Kf7,Qh7+,Kf8,Qh6+,Kf7,Rae1,Rg8', 'Qh7+,Rg7,Rxe7+,Kxe7,Qxg7+,Kd6,Qxf6+', 'https://lichess.org/training/ZL9B7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZL9C2', 'Blitz', 'IM Anasurimbor', 2427, 'Prosvirnov_Sergei', 2322, 'e4,e5,Nf3,Nc6,Nc3,Nf6,h3,Bb4,Nd5,Bc5,Bc4,Nxe4,O-O,O-O,d3,Nf6,Bg5,Be7,Nxe7+,Qxe7,Re1,d6,d4,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Kg7,Re3,Bf5,d5,Nd4,c3,Nc2,Rf3,Kg6,Rg3,Nxa1,Qf3,Rg8,Bd3,e4,Qf4,exd3,Bxf6+,Kxf6,Qd4+,Qe5', 'Qh4+,Rg5,Qxg5#', 'https://lichess.org/training/ZL9C2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZL9Oz', 'Rapid', 'khan1343', 1920, 'Igoruchasior', 2063, 'e4,Nc6,Nf3,Nf6,e5,Nd5,d4,e6,c4,Nb6,c5,Nd5,Bc4,b6,Bxd5,exd5,cxb6,axb6,O-O,Ba6,Re1,Bb4,Bd2,O-O,Bc3,Bc4,a3,Bxc3,Nxc3,Na5,Nd2,Qg5,b3,Ba6,h3,c6,Nf3,Qf4,Re3,Rfe8,Na4,b5,Nc5,d6,Nd3,Qh6,Rb1,f6,e6,Bc8,e7,Ra7,Qe1,Bf5,Rb2,Bxd3,Rxd3,Raxe7,Qxa5', 'Qc1+,Kh2,Qxb2', 'https://lichess.org/training/ZL9Oz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZlA0K', 'Rapid', 'uncas5', 1844, 'viejosalas_as', 1865, 'd4,d5,c4,e6,a3,Nf6,e3,b6,Nc3,Be7,Nf3,Bf8,cxd5,Be7,dxe6,Bxe6,Ne5,O-O,Bd3,Nbd7,f4,Nxe5,fxe5,Ng4,h3', 'Bh4+,g3,Bxg3+,Kd2,Nf2', 'https://lichess.org/training/ZlA0K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zlCkP', 'Classical', 'magnouschess1212', 1894, 'asmmr24', 1888, 'd4,Nf6,Nf3,e6,c4,c5,e3,d5,Be2,dxc4,Bxc4,a6,a4,Nc6,O-O,cxd4,exd4,Bd6,Bg5,O-O,Nc3,h6,Bxf6,Qxf6,Ne4,Qe7,Nxd6,Qxd6,d5,Nb4,dxe6,Qf4,exf7+,Kh8,Qd4,Qxd4,Nxd4,Bg4,f3,Bh5,Rac1,Bxf7,Bxf7,Rxf7,Rc4,Nd3,b3,Re8,Rc3,Nf4,Rfc1,Rd7,Rc8,Rdd8,Rxd8,Rxd8,Rc4', 'Rxd4,Rxd4,Ne2+,Kf2,Nxd4', 'https://lichess.org/training/zlCkP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zldKZ', 'Blitz', 'irekyouall', 2456, 'NM chessiah', 2456, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,c5,Be7,a3,O-O,Bd3,Nc6,Nf3,a5,Rb1,b6,b4,axb4,axb4,bxc5,bxc5,Ba6,O-O,Ne4,Nxe4,dxe4,Bxe4,Rc8,Re1,Bc4,Bxh7+,Kxh7,Qc2+,g6,Qxc4,Bf6,Be3,Ne7,Bg5,Nf5,Bxf6,Qxf6,Rb7,Kg8,Ne5,Nd6,Qb4,Nxb7,Qxb7,Qf4,Qe4,Qxe4,Rxe4,Rfd8,g3,Kg7,Nf3,Rd7,h4,Ra7,Kg2,Ra2,Rf4,Rc2,Ng5,Rc7,Ne4,f5,Nd6,Ra7,g4,Ra1,gxf5,gxf5,d5,Rxc5,dxe6,Kf6', 'Ne4+,Kxe6,Nxc5+', 'https://lichess.org/training/zldKZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLebM', 'Rapid', 'LuktDuke', 1652, 'Denisyermakoff', 1617, 'e4,e5,f4,exf4,Nf3,h6,d4,g5,h4,g4,Ne5,d6,Nxf7,Kxf7,Bxf4,Nf6,Bc4+,d5,O-O,dxc4,e5,Kg6,exf6,Qxf6,Be5,Qxh4,Bxh8,g3,Rxf8', 'Qh2+,Kf1,Qh1+,Ke2,Bg4+', 'https://lichess.org/training/ZLebM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLF9k', 'Classical', 'Fomin753', 1712, 'Anderson1983', 1612, 'e4,c5,d4,e6,d5,Qh4,Qf3,Nf6,c4,Nxe4', 'g3,Qe7,Qxe4', 'https://lichess.org/training/ZLF9k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zLfbE', 'Blitz', 'JoeBandi', 1526, 'Hanceyiscoming', 1520, 'e4,c5,Bc4,Nc6,Nf3,e6,O-O,Nf6,e5,Nd5,c3,Nb6,Be2,d5,exd6,Bxd6,d4,cxd4,cxd4,Nxd4,Qxd4,O-O,Nc3,Re8,Qg4,Qf6,Bg5,Qg6,Rad1,e5,Qg3,Bc7,Nh4,Qc6,Qe3,f6,Bxf6,Qxf6,g3,e4,Bd3,Bh3,Nxe4,Qxb2,Rfe1,Nd5,Qg5,Qe5,f4,Qxg5,Nxg5,Bg4,Rb1,Bb6+,Kg2,Ne3+,Kh1,h6', 'Bh7+,Kh8,Ng6#', 'https://lichess.org/training/zLfbE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLfFY', 'Blitz', 'SAlberto', 1562, 'hausner', 1576, 'd4,d5,c4,Bf5,Nf3,Nf6,Nc3,c6,Bg5,h6,Bxf6,gxf6,cxd5,cxd5,e3,e6,Bd3,Bg6,O-O,Bb4,a3,Bxc3,bxc3,Nc6,Qc2,Rg8,Bxg6,Rxg6,c4,dxc4,Qxc4,Qd5,Qxd5,exd5,Rac1,Ke7,a4,Rag8,g3,h5,Nh4,Rg4,Nf5+,Ke6,Nh6,R4g6,Nxg8,Rxg8,Rc2,h4,Rfc1,hxg3,hxg3,f5,Rxc6+,bxc6,Rxc6+,Kd7,Rc5,Kd6,Ra5,Ra8,Ra6+,Ke7,Rc6,a5,Rc5,Rb8,Rxd5,Ke6,Re5+,Kf6,Rc5,Kg5,Rxa5,Kg4,Re5,f6,Re7,Kf3,Kh2,Kxf2,Rc7', 'Rh8+,Rh7,Rxh7#', 'https://lichess.org/training/ZLfFY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zLFT8', 'Rapid', 'tempr', 1923, 'luvsanravjaa', 1890, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Nf3,Be7,Bg5,O-O,Bxf6,Bxf6,Bd3,Bg4,O-O,Nc6,Ne2,Bxf3,gxf3,Bxd4,Nxd4,Nxd4,Bxh7+,Kxh7,Qxd4,Qg5+,Kh1,g6,Rg1,Qf5,Rg3,Rfe8,Kg2,b6', 'Rh3+,Qxh3+,Kxh3', 'https://lichess.org/training/zLFT8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLH1j', 'Rapid', 'EnesYusufKamis34', 2379, 'Badbear', 2439, 'e4,c5,Nf3,a6,c3,Qa5,Na3,b5,Be2,Bb7,O-O,Bxe4,d4,e6,Re1,cxd4,Nxd4,Nf6,Bg5,Bb7,Bf3,Qc7,Bxb7,Qxb7,Bxf6,gxf6,Qh5,Nc6,Nac2,Ne5,Rad1,Ng6,g3,Rg8,Kf1,Rc8,f4,Qg2+,Kxg2,Nxf4+,Kf3,Nxh5,Nb4,Bxb4,cxb4,Rg5,Nb3,Rf5+,Kg2,Rc2+,Rd2,Rxd2+,Nxd2,Rd5,Re2,f5,a3,Nf6,Nb3,Ne4,g4,Nf6,g5,Ne4,h4,f6,gxf6,Nxf6,Rc2,Kd8,Nc5,Rd4,Nxa6,Rxh4,Nc7,f4,Nxb5,e5,Nd6,e4', 'Rc8+,Ke7,Nf5+,Ke6,Nxh4', 'https://lichess.org/training/ZLH1j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZlHMZ', 'Rapid', 'Tetractys505', 1945, 'Motal98', 1973, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,d6,b4,Bb6,h3,a5,b5,Ne7,a4,Ng6,Nbd2,Be6,Re1,Nf4,Nf1,Bxc4,dxc4,Ne6,Ng3,h6,Be3,Bc5,Qd2,Bxe3,Rxe3,Nc5,Qc2,b6,Rd1,Qe8,Nh4,g6,Nf3,Qe6,Qa2,Kg7,Nh4,Rh8,Ree1,Rad8,Rd2,Nfd7,f3,Qf6,Nhf5+,gxf5', 'Nh5+,Kh7,Nxf6+', 'https://lichess.org/training/ZlHMZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLiaf', 'Rapid', 'perpenury', 1614, 'Semencov_Roman_2005', 1612, 'Nf3,Nc6,d4,d5,h3,Nf6,e3,e6,h4,h6,Bd3,Bd6,c3,e5,Be2,e4,Ng1,Qd7,g3,Ng4,f3,exf3,Bxf3,Qf5,Kd2,Bxg3,Qe2,Bf2', 'Bxg4,Qxg4,Qxf2', 'https://lichess.org/training/ZLiaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZlihT', 'Blitz', 'obadatheking', 1583, 'hqkhnk10', 1605, 'e4,c5,Nc3,d6,Bc4,Nc6,Nge2,Nf6,O-O,Bg4,h3,Bd7,d4,cxd4,Nxd4,g6,Bg5,Bg7,Qd2,O-O,Nxc6,Bxc6,Bh6,Nxe4,Nxe4,Bxe4', 'Bxg7,Kxg7,Qd4+,Kg8,Qxe4', 'https://lichess.org/training/ZlihT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLipE', 'Bullet', 'Mrdz', 1600, 'Quiesel', 1568, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,Bf5,Bc4,e6,f3,Qd4,fxe4,Nxe4,Qf3,Qxc4,Ncxe4,Bxe4', 'Qxf7+,Kd8,Nxe6+,Qxe6,Qxe6', 'https://lichess.org/training/ZLipE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zLJHO', 'Blitz', 'Pjshsuarez', 2002, 'malopalmate', 1959, 'e4,Nc6,d3,e5,Nf3,Bc5,c4,a6,Be2,d6,O-O,Nf6,Bg5,h6,Bh4,g5,Bg3,Be6,Nc3,Ba7,a3,Nh5,Kh1,Nxg3+,fxg3,h5,Nd5,h4,gxh4,g4,Ng5,Rxh4,Nxe6', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/zLJHO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLKxo', 'Blitz', 'husseinalsarhan', 1754, 'Mdaimanmirza', 1817, 'd4,d5,Nf3,Bf5,Bg5,Nc6,e3,a6,Nbd2,Qd6,Nh4,Bg6,Nxg6,Qxg6,Nf3,Nb4,Kd2,f6,a3,fxg5,axb4,e6,Bd3,Qf6,Qe2,Bxb4+,c3,Bd6,b3,Ne7,g3,O-O,h4,Qxf3,hxg5,g6,Rh2,Nc6,Rah1,Qxe2+,Kxe2,Rf7,Bxg6,hxg6', 'Rh8+,Kg7,R1h7#', 'https://lichess.org/training/ZLKxo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zlKZQ', 'Rapid', 'leo_rubol', 1610, 'dvml', 1840, 'd4,Nf6,Nf3,e6,e3,c5,c3,cxd4,cxd4,d5,Nc3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bb4,Bd2,O-O,a3,Be7,O-O,Na5,Ba2,Nc4,Ne5,Nxe5,dxe5,Nd7,f4,Qb6,Bb1,g6,Rf3,Nc5,Rg3,Bb7,Qh5,Kg7,f5,exf5,e4,Nxe4+,Be3,Nxg3', 'Qh6+,Kg8,Bxb6', 'https://lichess.org/training/zlKZQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zLlyv', 'Rapid', 'hollersven', 1840, 'AdrianoNunesFX', 1791, 'e4,e6,d4,d5,b4,a5,b5,c5,bxc6,bxc6,e5,c5,c3,Nc6,Bb5,Qb6,Bxc6+,Qxc6,Nf3,Ba6,Be3,cxd4,cxd4,Bb4+,Bd2,Ne7,Bxb4,axb4,Nbd2,O-O,Rc1,Qb6,Nb3,Nf5,Nc5,Rac8,Nd7,Rxc1,Qxc1,Rc8', 'Qxc8+,Bxc8,Nxb6', 'https://lichess.org/training/zLlyv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLNCm', 'Rapid', 'liviupetre', 1753, 'Homeworld', 1708, 'e4,c5,Bc4,e6,Nc3,Nf6,Nf3,d5,exd5,exd5,Qe2+,Be7,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,O-O,d4,cxd4,Nxd4,Bc5,Be3,Re8,a3', 'Bxd4,Bxd4,Rxe2', 'https://lichess.org/training/ZLNCm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zlo7n', 'Classical', 'elchin7761', 1925, 'Mesarc', 1905, 'e4,c5,Nc3,e6,g3,b6,Bg2,Bb7,d3,Be7,Nb5,a6,Nc3,Nf6,Bf4,O-O,Nf3,d6,O-O,e5,Bg5,h6,Be3,Nc6,Nd5,Nxd5,exd5,Nd4,Nxd4,cxd4,Bd2,Rc8,f4,Re8,fxe5,dxe5,d6,Bxg2,dxe7,Qd5,Rf2,Bh3,Qh5,Be6,Re2,f6,Qg6,Bf7,Qg4,Rxc2', 'Bxh6,g5,Rxc2', 'https://lichess.org/training/Zlo7n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLO80', 'Rapid', 'sharkema', 1622, 'ingilizce', 1800, 'e4,e6,f4,d5,exd5,exd5,Nf3,c5,d4,Nc6,Bb5,Nf6,Nc3,Qa5,O-O,Be7,Ne5,Qc7,Qf3,cxd4,Nxd5,Nxd5,Qxd5,O-O,Bxc6,bxc6,Qxd4,Rd8,Qe4,Bb7,Be3,c5,Qc4,Bd5,Qe2,Rab8,c4,Be6,f5,Qxe5,fxe6,fxe6,Rae1,Rxb2,Qf3,Rxa2', 'Qf7+,Kh8,Qxe7', 'https://lichess.org/training/ZLO80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zlOVp', 'Blitz', 'daniel010203041', 1603, 'noblice', 1565, 'd4,d5,Bg5,f6,Bh4,e5,e3,exd4,exd4,Nc6,c3,Nh6,Bd3,Qd6,Qh5+,Kd8,Ne2,Be6,Nd2,Bf7,Qf3,g5,Bg3,g4,Bxd6,gxf3,Bxc7+,Kxc7,Nxf3,Re8,O-O-O,Bh5,Ng3,Bg4,h3,Bxf3,gxf3,Bd6,Rhe1,Reg8,Nf5,Nxf5,Bxf5,Rg2,Bg4,Rxf2,a3,Na5,Kb1,Nc4,Re6,Rxb2+,Ka1,Rb3,Rxf6,Rxa3+,Kb1,Rxc3,Rf7+,Kb6,Ka1,Ne3,Rb1+,Ka6,Rbxb7,Rc1+,Kb2,Rf1,Rxa7+,Kb6', 'Rfb7+,Kc6,Bd7#', 'https://lichess.org/training/zlOVp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLovs', 'Blitz', 'IM Gannikus', 2398, 'Nilahs', 2069, 'Nf3,Nf6,c4,g6,Nc3,Bg7,e4,O-O,d4,d6,Be2,Na6,Bg5,h6,Bh4,c5,d5,Nc7,a4,e5,Nd2,b6,g4,a6,Rg1,Bd7,Ra3,Rb8,Rb3,Qe8,g5,hxg5,Bxg5,b5,axb5,axb5,cxb5,Nxb5,Nxb5,Bxb5,Bxb5,Rxb5,Rxb5,Qxb5,Qc2,Ra8,f3,Nh5,Nc4,Nf4,Bxf4,exf4,Ke2,Ra4,b3,Rb4,Rb1,Qb8,Qd3,Qd8,Kd1,Bd4,Kc2,Qh4,Nxd6,Qxh2+,Qd2,Qh3,Qe2,Rb6,Nc4,Ra6,Kd3,Ra2,Qxa2,Qxf3+,Ne3,Qxe3+,Kc4,Qxe4,d6,Be5+,Kxc5,Qd4+,Kb5,Qxd6,Qa8+,Kg7,Qe4,Qd7+,Kc4,Qd6,Qd5,Qc7+,Kd3,f3,Qxf3', 'Qc3+,Ke2,Qc2+', 'https://lichess.org/training/ZLovs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zlP1f', 'Rapid', 'Sergeantpol', 1660, 'Vertiginous', 1630, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,Nc3,Bg4,Nd5,Nxe4,Re1,Nf6,d4,Nxd5,dxe5,Ne7,exd6,Qxd6,Qe2,O-O-O,Bg5,f6,Bh4,a6,Bg3,Qb4,Bc4,Nd4,Qe4,Bxf3,gxf3,Qxc4,Qg4+,Kb8,Rad1,h5,Qf4,Rh6,c3,Ne2+,Rxe2,Qxf4', 'Rxd8+,Nc8,Bxf4', 'https://lichess.org/training/zlP1f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zLr8X', 'Blitz', 'FM JOSOHA', 2390, 'Cuappatolli', 2321, 'Nf3,Nf6,b3,g6,Bb2,Bg7,g3,O-O,Bg2,c6,O-O,b6,c4,Bb7,d4,Re8,Nc3,d6,d5,cxd5,Nxd5,Nbd7,Nd4,Nxd5,cxd5,Ne5,h3,Rc8,f4,Nd7,Rc1,e6,dxe6,Bxg2,Kxg2,fxe6,Qd2,Nc5,e3,e5,Nb5,Re6,f5,gxf5,Rxf5,Qd7,Nc3,Rg6,Rcf1,Qc6+,Kh2,Ne6,Nd5,Qc2,Ne7+,Kh8,Nxg6+,hxg6,Qxc2,Rxc2+,R5f2,Rc5,Ba3,Rd5,Rf7,Ng5,R7f2,Ne4,Rc2,Nd2,Rf7,Kg8,Rxa7', 'Nf3+,Kh1,Rd1+,Kg2,Ne1+,Kf1,Nxc2+', 'https://lichess.org/training/zLr8X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZlRQx', 'Rapid', 'kaskarov2015', 1791, 'Mickey06121994', 1855, 'e4,b6,d4,Bb7,e5,e6,Nf3,Ne7,Bg5,h6,Bh4,g5,Bg3,Nf5,c3,c5,Bb5,a6,Ba4,b5,Bb3,c4,Bc2,Bg7,Nbd2,h5,h3,g4,hxg4,hxg4,Rxh8+,Bxh8,Bxf5,gxf3,gxf3,exf5,Qc2,Qg5,O-O-O,Bd5,Rh1,Bg7,Kd1,Nc6,Bh4,Qg2,Rf1,Bxf3+,Kc1,Be4,Qd1,Qg4', 'Qxg4,fxg4,Nxe4', 'https://lichess.org/training/ZlRQx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zls8z', 'Rapid', 'asurPro', 1995, 'OuterHeaven92', 1947, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Qc7,Bb5,Nf6,Qd3,Ne5,Qc3,Qxc3+,Nxc3,Bb4,Bd3,d5,exd5,Nxd5,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,Bd7,f4,Nc6,Rb1,O-O-O,O-O,h6,Nxc6,Bxc6,Rb3,g5,Ra3,a6,Rb3,gxf4,Rxf4,Rhg8,Rxf7,Bxg2,Kf2,Rdf8', 'Rxf8+,Rxf8+,Kxg2', 'https://lichess.org/training/zls8z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zLsQv', 'Rapid', 'kryakr', 1618, 'Danilavram', 1616, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,h3,Bh5,Be2,Nf6,d4,c6,O-O,Qc7,Ne5,Bxe2,Qxe2,Nbd7,Nxd7,Qxd7,Be3,e6,a3,Bd6,Rfd1,O-O-O,d5,exd5,Bxa7,Rhe8,Qd3,Ne4,Nxe4,dxe4,Qd4,Qc7,Bb6', 'Bh2+,Kf1,Rxd4,Bxc7,Rxd1+', 'https://lichess.org/training/zLsQv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zLtxP', 'Rapid', 'alfredcuka', 1822, 'shinigami13', 1832, 'e4,c5,Bc4,e6,d3,Nc6,a3,Nf6,Nc3,Be7,Nf3,O-O,h3,d5,exd5,exd5,Ba2,b6,Bf4,Be6,O-O,Nh5,Bh2,d4,Ne4,Bd5,Nfd2,Nf6,Nxf6+,Bxf6,Bxd5,Qxd5,Ne4,Be7,Qf3,Ne5', 'Nf6+,gxf6,Qxd5', 'https://lichess.org/training/zLtxP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zLUGJ', 'Rapid', 'daniil11111', 1829, 'Bolado07', 1906, 'd4,d5,c4,dxc4,e4,c5,d5,Nf6,Bxc4,Nxe4,Qf3,Nd6,Bf4,b5,Be2,Qa5+,Bd2,b4,b3,g6,Bf4,Bg7,Qe3,Qd8,Nd2,Bd4,Qf3,Bxa1,Nc4,O-O,Bh6,Bg7,Bxg7,Kxg7,Ne5,Bf5,Nh3,Be4,Qe3,Bxd5,Ng4,Nd7,Qh6+,Kg8', 'Ng5,Nf6,Nxf6+,exf6,Qxh7#', 'https://lichess.org/training/zLUGJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZlvTy', 'Rapid', 'ecobier', 764, 'LutherLopez', 926, 'e4,e5,Nf3,Nc6,Bd3,a6,Bc4,Qf6,O-O,Nd4,Nxd4,exd4,Qh5,g6,Qd5,Nh6,Qa5,b6,Qd5', 'c6,e5,cxd5,exf6,dxc4,Re1+,Kd8', 'https://lichess.org/training/ZlvTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLwsc', 'Blitz', 'tigrechess', 1960, 'IM Gannikus', 2398, 'Nf3,d5,c4,d4,e3,Nc6,exd4,Nxd4,Nxd4,Qxd4,Nc3,c6,d3,Nh6,Be3,Qd8,Bxh6,gxh6,d4,Bg7,d5,cxd5,cxd5,O-O,Be2,Bf5,O-O,Rc8,Bf3,a6,a4,Qb6,Qd2,Bg6,a5,Qb4,Ra4', 'Bxc3,Rxb4,Bxd2', 'https://lichess.org/training/ZLwsc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zLWut', 'Rapid', 'waelll1986', 1855, 'astarothein', 1884, 'h4,e5,g4,Bc5,a4,d5,b4,Bd6,g5,Bf5,d4,e4,c3,Ne7,h5,g6,hxg6,fxg6,Bg2,Nd7,a5,b6,Qb3,c5,Na3,c4,Qa4,O-O,Nb5,Bb8,Na3,bxa5,bxa5,a6,Nc2,Bc7,Ne3,Rb8,Nxf5,Nxf5,Qc6,e3,Qxd5+,Kh8,Bxe3,Nxe3,fxe3,Bg3+,Kd1,Rf2,Nh3,Rf5,Qxc4,Rxa5,Rxa5,Qxa5,Nf4,Qa3,Rxh7+,Kxh7', 'Qf7+,Kh8,Nxg6#', 'https://lichess.org/training/zLWut');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZlXuB', 'Blitz', 'JMAV2020', 1811, 'SAS_programmer', 1812, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Qf3,Qc6,Bd3,Be6', 'Be4,Qd7,Bxb7,c6,Bxa8', 'https://lichess.org/training/ZlXuB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZLYFQ', 'Rapid', 'Al_Proc_Mal-55', 2258, 'Uskechoth', 2278, 'c4,c5,Nc3,b5,cxb5,c4,Nf3,Nf6,e4,e6,Bxc4,Qc7,d3,Bd6,h3,Bb4,O-O,Bxc3,bxc3,d6,Bg5,Nbd7,Rc1,O-O,a4,Bb7,Ba2,h6,Bf4,Nc5,Bg3,a6,Nd4,axb5,Nxb5,Qc6,Nxd6,Rfd8,Nxb7,Rxd3,Qc2,Qxb7,Bc4,Rdd8,Bb5,Nfxe4,Rfd1,Nxg3,fxg3,Qc7,Rxd8+,Rxd8,c4,Qxg3,Qf2', 'Qxf2+,Kxf2,Nd3+,Ke3,Nxc1', 'https://lichess.org/training/ZLYFQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zm5CA', 'Classical', 'Smovlan795', 1759, 'Easy_dubs', 1860, 'e4,e5,Bc4,Nf6,Nc3,c6,d4,d6,dxe5,dxe5,Bxf7+,Ke7,Qxd8+,Kxd8,Bg5,Bb4,O-O-O+,Kc7,Nf3,Bxc3,bxc3,Nxe4,Bd8+,Rxd8,Nxe5,Rxd1+,Rxd1,Nxc3,Rd3,Nxa2+,Bxa2,Na6,Rg3,g6,Bg8,Bf5,Bxh7,Nb4,c3,Na2+', 'Kb2,Rh8,Bxg6', 'https://lichess.org/training/Zm5CA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zm5Uf', 'Rapid', 'Cdorf1977', 1887, 'kkt_cond', 1744, 'e4,c5,Nc3,d6,f4,Nf6,Nf3,Nc6,Bb5,Bd7,O-O,e6,d3,Be7,Bxc6,Bxc6,Bd2,O-O,Qe1,a6,Rb1,b5,a3,b4,axb4,cxb4,Ne2,a5,b3,Bb5,Ned4,Qb6,Be3,Ng4,h3,Nxe3,Qxe3,Rac8,Rbe1,Rc3,Kh1,Rfc8,Rf2,Bf6,e5,dxe5,fxe5,Be7,Qf4,a4,bxa4,Bxa4,Ng5,Be8,Ref1', 'Bxg5,Qxg5,Qxd4', 'https://lichess.org/training/Zm5Uf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zm5ZT', 'Blitz', 'Actehualpa', 2350, 'FM LuisFlaquer', 2398, 'e4,c5,Nc3,Nc6,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nf6,f3,O-O,Qd2,d5,Nxc6,bxc6,e5,Nd7,f4,Rb8,b3,f6,exf6,Bxf6,Bd4,e5,fxe5,Nxe5,O-O-O,Qa5,Be2,Bf5,g4,Qa3+,Kb1,Rxb3+,axb3,Qxb3+,Ka1,Bxc2,Rb1,Qa3+,Na2,Bxb1,Rxb1,a5,Bb2,Qd6,g5,Bg7,h4,Ra8,h5,gxh5,Bxh5,a4,Qb4,a3', 'Qxd6,axb2+,Rxb2', 'https://lichess.org/training/Zm5ZT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zM7HA', 'Blitz', 'UnhappyFrog', 1648, 'darketonio13', 1740, 'e4,g6,Nc3,Bg7,d4,c5,d5,d6,Bd2,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,f3,O-O,Nge2,a6,O-O,b5,Kh1,b4,Na4,Qa5,b3,Nh5,a3,Bxa1,axb4,cxb4,Qxa1,Rfc8,Bh6,Nhf6,Nd4,Nc5,Nc6,Rxc6,dxc6,Qc7,Nxc5,dxc5,f4,Qxc6,e5,Nd5,e6,Nc3,exf7+,Kxf7,f5,Kg8,fxg6,Qxg6,Qc1,Rd8,Qf4,Ne2', 'Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/zM7HA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zm7Ls', 'Rapid', 'oledapra', 1731, 'Master_Moura', 1620, 'e4,Nc6,d4,e6,Nf3,d5,e5,f6,Bb5,Bd7,O-O,fxe5,Bxc6,Bxc6,Nxe5,Bb5,Qf3,Qf6,Bg5,Qxf3,gxf3,Bxf1,Kxf1,Nf6,Nc3,O-O-O,Nf7,Bd6,Nxd8,Kxd8,f4,Kd7,a4,Rf8,Nb5,a6,Nc3,Ne4,Nxe4,dxe4,Re1,Bxf4,h4,Bg3,Re2,e3,Bxe3,Bxh4,c4,Kd6,b4,g5,Kg2,g4,Bh6,Rf6,Bg7,Rf4', 'Be5+,Kd7,Bxf4', 'https://lichess.org/training/zm7Ls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zm7PY', 'Blitz', 'raphaelchristi', 1518, 'Harley_78', 1597, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,Nf6,d4,h6,Ne5,Bd6,f4,Nbd7,Bb5,c6,Ba4,Bc7,O-O,O-O,Ne2,Nxe5,fxe5,Nh7,Ng3,b6,c3,Bb7,Bc2,c5,Qd3,g6,Bxh6,Re8,Qf3,Qe7,Rf2,Rad8,Raf1,Rd7,Qg4,Qe6,Rf5,Ba6,R1f2,Kh8,Nh5,Rg8,Nf6,Nxf6,exf6,gxf5', 'Bg7+,Rxg7,Qxg7#', 'https://lichess.org/training/zm7PY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zM9Rj', 'Rapid', 'MrTaki', 1643, 'MUH69', 1649, 'e4,c5,Bc4,e6,Nf3,Nc6,d3,Nf6,b3,a6,Bb2,d5,exd5,exd5,Bxf6,Qxf6,Bxd5,Qxa1,Qe2+,Be7,O-O,O-O,Bxc6,Bf6,Bd5,Rb8,a4,Bg4,h3,Rfe8,Qd1,Bxf3,Qxf3,Re5,Bxb7,Rbe8,Bxa6,Re1,Rxe1,Rxe1+,Kh2,Be5+,g3,g6,Nd2,Qc1,Nc4', 'Bxg3+,Qxg3,Rh1+', 'https://lichess.org/training/zM9Rj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZM9Sh', 'Rapid', 'necke', 1602, 'Chessvesterson', 1611, 'e4,e5,Bc4,Nf6,Bxf7+,Kxf7,Nf3,Nc6,c3,Be7,Ng5+,Kg8,d4,exd4,O-O,d6,h3,dxc3,bxc3,Qf8,Be3,Nd8,Bd4,h6,Nf3,c5,Be3,Nxe4,Qd5+,Qf7,Qxe4,Bf5,Qa4,Kh7,Nbd2,a6,Qb3,d5,c4,d4,Bf4,Bxh3,gxh3,Qxf4,Rfe1,Bd6,Qd3+,g6,Ne4,Be5,Nxe5,Qxe5,h4,Rf8', 'Ng5+,Qxg5+,hxg5', 'https://lichess.org/training/ZM9Sh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zma9e', 'Rapid', 'ayrion78100', 1762, 'BalfaKrOOl_FCB', 1712, 'e4,e6,d4,d5,e5,c5,c3,c4,b3,Qc7,bxc4,dxc4,Nd2,Bd7,Ngf3,Nc6,Nxc4,O-O-O,Rb1,Nge7,Nd6+,Kb8,Rxb7+,Qxb7,Nxb7,Kxb7,Qb3+,Ka8,Ba6,Rb8,Qc4,Nd5,O-O,Na5,Qd3,Be7,Bd2,f5,c4,Nb4,Bxb4,Bxb4,Rb1,h6,d5,g5,d6,Nc6,Qe3,Bc5,Rxb8+,Rxb8,Qe2', 'Rb1+,Qf1,Rxf1+', 'https://lichess.org/training/Zma9e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmaJ6', 'Blitz', 'samboynovskyli', 1973, 'sadudulur', 1903, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,a6,Be3,Nf6,Qd2,e5,Nb3,Be6,Bg5,Be7,Bxf6,Bxf6,Nd5,Bg5,Qd3,O-O,Nd2,Qa5,c3,Rfd8,Nb3,Qb5,Qxb5,axb5,Bxb5,Bxd5,exd5,Ne7,c4,Nf5,Ke2,Nh4,g3,Ng6,h4,Bh6,h5,Ne7,Kd3,f5,Rhe1,Nc8,a3,Na7,Ba4,Rab8,Na5,b5,Bb3,bxc4+,Kxc4,Rdc8+,Kd3,Rb5,Nc6,Nxc6,dxc6+,Kf8,Bc4,Rxb2,Rab1,Rxb1,Rxb1,Rxc6,Rb8+,Ke7,Rb7+,Kf6,a4,Bc1,a5,Ba3', 'f4,e4+,Kd4,Rxc4+,Kxc4', 'https://lichess.org/training/zmaJ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZMBHF', 'Classical', 'cadelsec', 2076, 'ardeshiro', 1993, 'd4,d5,Nf3,e6,Bf4,Nf6,e3,Bd6,Bg3,c5,c3,a6,Bd3,Nc6,Ne5,Qc7,f4,c4,Bc2,b5,Nd2,a5,a3,Bb7,O-O,b4,axb4,axb4,Qf3,g6,Rxa8+,Bxa8,e4,O-O,Nxc6,dxe4,Nxe4,Nxe4,Bxe4,f5,Qe2,fxe4,Qxe4,Qxc6,Qxe6+,Kg7,d5,Qc5+,Bf2,Qxd5', 'Bd4+,Qxd4+,cxd4', 'https://lichess.org/training/ZMBHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZmblP', 'Blitz', 'Bek-David-H-1970', 1719, 'Shevchenko_vlad', 1888, 'e4,c5,Nf3,e6,Nc3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d5,d3,e5,Nxe5,Bd6,Nxc6,Qc7,exd5,Bxh2+,Kh1,Bd6,Re1+,Be7,Qe2,Bb7,Nxe7,Nxe7,Bf4,Qd7,d6', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/ZmblP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zMbsB', 'Blitz', 'joseag1303', 2477, 'FM tomo71hr', 2437, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Bg5,dxc4,Bxc4,h6,Bh4,Qxd4,Qxd4,Nxd4,O-O-O,e5,Nf3,Nxf3,gxf3,Be7,Rhe1,O-O,Rxe5,Bb4,Bxf6,Bxc3,bxc3,gxf6,Rg1+,Kh8,Rh5,Kh7,Bd3+,f5,Rg3,Be6,Rgh3,Rac8,Rxh6+,Kg7,Kb2,Rfd8,f4,Rxd3,Rh7+,Kg6', 'R3h6#', 'https://lichess.org/training/zMbsB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmdBz', 'Blitz', 'Emasculator', 1878, 'hermelinda', 2122, 'Nf3,e6,d4,d5,e3,f5,g4,Nf6,g5,Ne4,h4,Be7,Ne5,O-O,Rg1,Nc6,f3,Nxe5,fxe4,Ng4,e5,c5,Bh3,cxd4,exd4,b6,Bxg4,fxg4,Qxg4,Rf5,Be3,Ba6,Nd2,Qc7,O-O-O,Bd3,c3,Rc8,Nf3,Be4,Nd2,Ba3,Nxe4,dxe4,Qxe4', 'Qxc3+,Kb1,Qxb2#', 'https://lichess.org/training/zmdBz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmdGk', 'Rapid', 'LP_Nekos', 1631, 'Ilia09', 1797, 'd4,d5,c4,e6,Nf3,Nf6,g3,Bb4+,Bd2,Be7,Bg2,O-O,O-O,Nbd7,Qc2,c6,Rd1,b6,b3,Bb7,Nc3,Rc8,Bf4,Nh5,Bc1,Nhf6,e4,dxe4,Nxe4,Nxe4,Qxe4,Nf6,Qe2,Nd7,Qc2,Bf6,Ba3,Be7,Bc1,Bf6,Bf4,c5,Ng5,Bxg5,Bxb7,Bxf4,Bxc8,Bg5,Bxd7,Qxd7,dxc5,Qc7,cxb6,Qxb6,Rd7,Rd8,Rad1,Rxd7,Rxd7,g6,c5,Qc6,Rxa7,Kg7,b4,Bf6,Qc4,Qf3,c6,Qd1+,Kg2,Bd4,Qxe6,Bxa7,Qd7,Qxd7', 'cxd7,Bb6,a4,Kf6,a5', 'https://lichess.org/training/zmdGk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zMdXs', 'Blitz', 'tamik', 2466, 'NM Marohzevich', 2529, 'c4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d5,cxd5,Nxd5,d3,c5,Nc3,Nc7,Be3,b6,Nd2,Nd7,Bxa8,Nxa8,Qc1,Nf6,Nf3,Ng4,Bd2,Re8,Nd1,Nc7,Ne3,Nf6,a3,Bb7,b4,Ne6,bxc5,Nxc5,Rd1,Nb3,Qb1,Nxa1,Qxa1,Ne4,Qa2,Nxd2,Nxd2,Qd7,Rc1,h5,Ne4,Bd4,Ng2,Rc8,Rc4,b5,Rxc8+,Qxc8,Qb1,a5,Nf4,Qc6,h4,f5,Qb3+,Kf8', 'Ne6+,Qxe6,Qxe6', 'https://lichess.org/training/zMdXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmEgi', 'Rapid', 'M_BERKE_U', 1944, 'AxelRose', 1925, 'd4,d6,c4,Nf6,Nc3,e5,dxe5,Nfd7,exd6,Bxd6,e4,O-O,Nf3,Ne5,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/zmEgi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmeJV', 'Rapid', 'Hugosioux', 1897, 'poupouce', 2102, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf5,d5,exd5,Bxf5,dxc6,Qxd1+,Kxd1,bxc6,Bd2,Rd8,h3,Bb4,g4,Bxc3,bxc3,Bg6,Bg2,Be4,f3,Bg6,Re1,e4,fxe4,O-O,e5,Nd5,c4,Nb4,Be4,Bxe4,Rxe4,Rd7,Kc1,Na6,e6,fxe6,Rxe6,Rfd8,Bg5', 'Rd1+,Kb2,Rb8+,Kc3,Rxa1', 'https://lichess.org/training/zmeJV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZmF8W', 'Rapid', 'SumqayitskiFischer', 1805, 'leroma84', 1830, 'b3,d5,Bb2,Nc6,d3,e5,e4,d4,Nf3,Bb4+,Nbd2,Bg4,a3,Bxd2+,Qxd2,Bxf3,gxf3,Nf6,Bh3,Qe7,Rg1,Rg8,f4,Nh5,fxe5,Qxe5', 'Rg5,Qxh2,Rxh5', 'https://lichess.org/training/ZmF8W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZMfTH', 'Rapid', 'Marksssss', 1811, 'Ramzi-becheikh', 1791, 'd4,Nf6,Nc3,d5,e4,dxe4,f3,exf3,Qxf3,e6,Bf4,Bd6,Bg5,Nbd7,O-O-O,O-O,d5,exd5,Nxd5,c6,Nxf6+,Nxf6,Bxf6,Qxf6', 'Qxf6,gxf6,Rxd6', 'https://lichess.org/training/ZMfTH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmhq1', 'Rapid', 'sirezekiel', 1921, 'lgb', 1831, 'e4,g6,d4,Bg7,Nf3,e6,Bc4,c6,d5,exd5,exd5,Qe7+,Qe2,Qxe2+,Kxe2,Ne7,d6,Nf5,Rd1,O-O,g4,Nh6,Bxh6,Bxh6,Nc3,a5,Kf1,b5,Bd3,Na6,Ne4,Bg7,c3,Bb7,a4,b4,Kg2,c5,Rac1,c4,Bb1,b3,Re1,Rac8,Kg3,Nc5,Nxc5,Rxc5,Rcd1,Bc6,h4,Bxa4,g5,Bc6,Re7,a4,h5,Bxf3,Kxf3,Rxg5,Rxd7,Rxh5,Ra7,Bf6,d7,Bd8,Rxa4,Rc5,Ra8,h5,Be4,Kg7,Kg3,f5,Bf3,f4+,Kg2,Rg5+,Kf1,h4,Rc8,h3,Rxc4', 'h2,Ke2,Rg1', 'https://lichess.org/training/zmhq1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmJ0c', 'Classical', 'Averagebum', 1945, 'Connorules1', 1718, 'e4,c6,Nc3,d5,Nf3,Bg4,h3,Bxf3,Qxf3,dxe4,Nxe4,Nf6,Bc4,Nbd7,O-O,e6,d4,Be7,Bg5,h6,Bh4,Nxe4,Bxe7,Qxe7,Qxe4,Nf6,Qh4,O-O,Rfe1,Nd5,Qg3,Rfd8,c3,Qd6,Qf3,Qf4', 'Bxd5,Qxf3,Bxf3', 'https://lichess.org/training/zmJ0c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZmJmL', 'Rapid', 'Frenchy', 2008, 'Vadik10', 1911, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Be7,Re1,d6,h3,O-O,c3,a6,Ba4,b5,Bc2,h6,d3,Nh7,Nbd2,f5,Nf1,f4,d4,Bf6,dxe5,dxe5,Bb3+,Kh8,Bd5,Bb7,N1h2,Qe8,Ng4,Rd8,b4,Rd6,Qb3,h5,Ngh2,Bc8,a4,Ne7,axb5,axb5,c4,c6,c5,Rxd5,exd5,Nxd5,Bb2,e4,Bxf6,Nhxf6,Ra7,Qg6,Nh4,Qg5,N2f3,exf3,Nxf3,Qg6,Ne5,Qe8,Nf7+,Qxf7,Rxf7,Rxf7,Kf1,Bf5,f3,h4,Qa2,Ne3+', 'Rxe3,fxe3,Qxf7', 'https://lichess.org/training/ZmJmL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zMkbA', 'Classical', 'murat60', 1959, 'sxakisto', 1871, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,Bc4,Bb4,Bg5,h6,Bxf6,Bxc3+,bxc3,Qxf6,O-O,O-O,Rb1,Rd8,Qd2,d5,exd5,Be6,f4,cxd5,fxe5', 'dxc4,exf6,Rxd2', 'https://lichess.org/training/zMkbA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZMki0', 'Rapid', 'ivanchess2', 1687, 'joseazpa', 1925, 'e4,c5,Nf3,Nc6,Nc3,d6,Bc4,Nf6,a3,e6,d3,Be7,Bg5,Na5,Ba2,O-O,Qd2,Bd7,h4,Rc8,h5,Ne8,Bxe7,Qxe7,h6,g6,Ng5,Nc6,f4,Nd4,Ne2,Nxe2,Qxe2,b5,g4,c4,dxc4,bxc4,Bxc4,Nf6,Bd3,Bc6,f5,exf5,gxf5,Rce8,fxg6,fxg6,O-O-O,Nxe4,Bxe4', 'Qxg5+,Qd2,Qxd2+', 'https://lichess.org/training/ZMki0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmkXj', 'Blitz', 'Raphaelcra', 2074, 'NikAragon', 2059, 'd4,b6,Bf4,Bb7,c3,d6,Nd2,e6,e4,Be7,Bd3,Qd7,Qc2,Nc6,f3,Nf6,Bg5,h6,Bh4,g5,Bf2,g4,a4,gxf3,Ngxf3,Rg8,Bf1,Ng4,Bg1,O-O-O,h3,Nf6,b4,Nh5,Bf2,Ng3,Bxg3,Rxg3,a5,Rdg8,axb6,axb6,Nc4,f5,Ne3,fxe4,Qxe4,Nxb4', 'Ra8+,Bxa8,Qxa8#', 'https://lichess.org/training/zmkXj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZmLRo', 'Blitz', 'vicbra', 2137, 'NM FleetWalker', 2225, 'c4,c6,Nc3,d6,g3,Nd7,Bg2,h6,Nf3,g5,O-O,Bg7,e4,Nf8,d4,Ne6,Be3,g4,Nh4,Bf6,Nf5,h5,d5,Nf8,dxc6,bxc6,Qa4,Bd7,Qc2,Ng6,Nd4,Ne5,b3,h4,f4,gxf3,Bxf3,hxg3,hxg3,e6,Rf2,Ke7,Rh2,Rxh2,Kxh2,Qf8,Kg2,Nh6,Rh1,Nhg4,Bf4,Qg7,Nce2,Rg8,c5,d5,exd5,exd5,Nf5+,Bxf5,Qxf5,Nxf3,Bd6+,Ke8', 'Qc8+,Bd8,Qxc6#', 'https://lichess.org/training/ZmLRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZMLXh', 'Rapid', 'slaven-popara', 1736, 'itod', 1817, 'd4,d5,c4,b6,Nc3,Bb7,Nf3,e6,Bg5,Be7,Bf4,Nf6,Bg5,dxc4,Qa4+,Bc6,Qxc4,Bxf3,exf3,O-O,Bd3,c6,O-O,Nd5,Bxe7,Qxe7,Nxd5,cxd5,Qc2,h6,Rac1,Qb4,Bh7+,Kh8,Rfd1,Nd7,Bd3,Nf6,Ba6,Qa5,Be2,Qxa2', 'Ra1,Rac8,Qxc8,Rxc8,Rxa2', 'https://lichess.org/training/ZMLXh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZmM7X', 'Rapid', 'DIdiot', 1673, 'MetiRohs', 1685, 'e4,e5,Bc4,Nf6,Nc3,Nc6,Nf3,d6,d3,Be7,O-O,Na5,b3,Nxc4,bxc4,c5,Nd5,O-O,Bg5', 'Nxd5,cxd5,Bxg5', 'https://lichess.org/training/ZmM7X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zmmgw', 'Rapid', 'Centenarian', 1827, 'yashwanth_bandla', 1802, 'b4,Nf6,Bb2,g6,c4,Bg7,Nf3,O-O,e3,d6,Be2,e5,d3,Nc6,b5,Ne7,Nbd2,a6,a4,c6,O-O,c5,Qc2,a5,d4,Nd7,Ne4,Qc7,dxe5,Nxe5,Nxe5,dxe5,Rad1,Bf5,Bd3,Rad8,f3,b6,g4,Bc8,Be2,Bb7,Rxd8,Rxd8,Rd1,f5,gxf5,Nxf5,Rxd8+,Qxd8,Qd3,Qxd3,Bxd3,Nxe3,Ng3,Nd1,Bc1,Nc3,Bc2,Bxf3,Bg5,Ne2+,Kf2,Nxg3,hxg3,e4,Bd8,Bd4+,Kf1,e3,Bd3,Kf7,Bxb6,Ke8,Bxa5,Kd7,Be1,Kc8,a5,h5,Be2,Bxe2+,Kxe2,Kb7,Kf3,g5,a6+,Ka7,Ke4,Bf6,Kf5,Be7,Kg6', 'h4,gxh4,gxh4', 'https://lichess.org/training/Zmmgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZmmmL', 'Rapid', 'LeoMehringer', 1767, 'leistenauer', 1752, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,Nc6,c4,Bd6,Bg3,O-O,c5,Bxg3,hxg3,b6,Nc3,bxc5,dxc5,Qe7,Bb5,Qxc5,Rc1,Nb4,a3,Nc6,Qa4,Bb7,Ne2,Qb6,Bxc6,Bxc6,Rxc6,Qxb2,Rxc7,Ne4,Nfd4,Qa1+,Rc1,Qb2,O-O,e5,Rc2,Qb6,Nf3,Nf6,Nxe5,Rfe8,Nf3,d4,Nexd4,Ne4,Qb4,Qg6,Rc6,Qh5,Qb5,Qg4,Ne5,Qh5,Rc7,Rxe5,Rfc1,Rf8,Qb8,h6,Rc8,Rxc8,Qxc8+,Kh7,Kf1,Nd2+,Ke1,Ne4,Rc7,Qh1+,Ke2,Qxg2,Rxf7,Nxg3+,Kd3,Qe4+,Kc3,Qg6,Qc7,Ne4+,Kb2,Nd2,Qxe5', 'Nc4+,Kc3,Nxe5', 'https://lichess.org/training/ZmmmL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zmn2k', 'Blitz', 'matedbytheking', 2031, 'Ranz0007', 2098, 'e4,e6,Nf3,d5,e5,c5,b4,cxb4,d4,Nc6,a3,bxa3,Nxa3,Bb4+,Bd2,Qe7,Nb5,Bxd2+,Qxd2,a6,Nd6+,Kf8,Ng5,Nxd4,Ngxf7,Nf5,Nxh8,Nxd6,exd6,Qxd6,Bd3,Qe5+,Qe3,Qxa1+,Ke2,Qxh1,Qf4+,Nf6,Bxh7,Qxg2', 'Qd6+,Ke8,Bg6+,Qxg6,Nxg6', 'https://lichess.org/training/Zmn2k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZMO3c', 'Blitz', 'MarTineZ1230', 2022, 'Aburu', 1996, 'e4,c5,Bc4,Nc6,Nc3,e6,d3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nge2,O-O,O-O,a6,a3,b5,Ba2,b4,axb4,cxb4,Na4,a5,Ng3,Ba6,Rb1,Bb5,Bb3,Nd4,f4,d6,f5,exf5,Nxf5,Qd7,Nb6,Qa7,Nxa8,Nxf5+,Kh1,Ne3,Qh5,Nxf1,Rxf1,Rxa8,g4,Bc6,g5,g6,Qf3,Bxb2,Bxf7+,Kh8,Bb3,Be5', 'Qf8+,Rxf8,Rxf8+,Kg7,Rg8#', 'https://lichess.org/training/ZMO3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmOTf', 'Blitz', 'nekorovyproigral', 1948, 'PositionalCarnage', 1926, 'e4,e5,Bc4,Nf6,d3,d6,Nf3,Be7,Nc3,O-O,O-O,c6,Bg5,Be6,Bb3,a5,Nd2,d5,f4,d4,fxe5,Ng4,Bxe7,Qxe7,Bxe6,Qxe6,Ne2,Ne3,Qe1,Nxc2,Qf2,Nxa1,Rxa1,Qxe5,Nf3,Qb5,Nexd4,Qxd3,Re1,Nd7,Nf5,Rae8,Qg3,g6,h3,Kh8,Re3,Qd1+,Re1,Qd3,Re3,Qb1+,Re1,Qxa2,Nd6,Re6,Ng5,Re7,Qh4,h5,Rf1,Ne5,g4,Qxb2,gxh5,Qd4+,Kh1,Kg8,hxg6,fxg6', 'Rxf8+,Kxf8,Qh8#', 'https://lichess.org/training/zmOTf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmPd5', 'Rapid', 'goodenuf', 1850, 'odhuu5755', 1852, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bg5,e6,e3,Be7,Bd3,h6,Bxf6,Bxf6,Nge2,Nc6,O-O,O-O,a3,a6,Rc1,Bd7,Bb1,g6,Nf4,Kg7,Qd3,Ne7', 'Nh5+,Kh8,Nxf6', 'https://lichess.org/training/zmPd5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZmQD3', 'Rapid', 'merab_archvadze', 2304, 'Sgr222', 2140, 'e4,c6,Nc3,d5,Nf3,d4,Ne2,c5,d3,Nc6,Ng3,e5,Be2,Nf6,O-O,Bd6,a4,a5,Nd2,O-O,Nc4,Bb8,f4,exf4,Bxf4,Bxf4,Rxf4,Qc7,Qf1,Be6,b3,Ne5,Rxf6,Nxc4,bxc4,gxf6,Qxf6,Qd8,Qh6,Kh8,Rf1,Rg8,Qh5,Qg5,Qf3,Qe3+,Qxe3,dxe3,Rf3,Rg6,Rxe3,Rag8,Bf3,Bd7,Re1,Bxa4,Ra1,Bxc2,Rxa5,Bxd3,Rxc5,b6,Rc7,Rf8,Kf2,Kg8,Nh5,f5,e5,Be4,Nf4,Rg7', 'Rxg7+,Kxg7,Ne6+,Kf7,Nxf8', 'https://lichess.org/training/ZmQD3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zMQf1', 'Classical', 'IldarRiabkov', 2011, 'ShyGuy1993', 1814, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Qe2,Qc7,c4,g6,b3,Bg7,Bb2,O-O,d4,cxd4,Nxd4,a6,Nc3,Rac8,Kh1,Nh5,Nd5,Qd8,f4,e6,Ne3,Nc5,Qc2,b5,f5,e5,Nf3,Nf6,Nd2,Qb6,Nd5,Nxd5,exd5,Bh6,fxg6,fxg6,Rxf8+,Rxf8,Rf1,Bxd2,Rxf8+,Kxf8,Qxd2,Ne4,Qe2,Nf2+,Kg1,Nh3+,Kf1', 'Qg1#', 'https://lichess.org/training/zMQf1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zMSG7', 'Rapid', 'fabioloso', 2135, 'KovalyovArtyom', 2006, 'e4,d5,exd5,Nf6,d4,Nxd5,a3,g6,c3,Bg7,Bc4,O-O,Ne2,Nc6,O-O,a6,Nf4,Nxf4,Bxf4,b5,Ba2,Bb7,Qc1,e5,dxe5,Nxe5,Rd1,Qh4,Bg3,Qh5,Nd2,Bh6,Qc2,Bxd2,Bxe5,Qxe5,Rxd2,Qg5,g3,Qh5,Rad1,Qf3,Bd5,Bxd5,Rxd5,Rfe8,Rd7', 'Re2,Qxe2,Qxe2', 'https://lichess.org/training/zMSG7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZMSm0', 'Classical', 'Wealth_And_Taste', 1664, 'topcatbenito', 1787, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,Nf6,Bd3,Bg4,O-O,Be7,h3,Bh5,Bf4,O-O,Nbd2,Nc6,c3,Bg6,Nc4,Nd5,Bg3,Re8,a4,a5,Bxg6,hxg6,Qb3,Nb6,Nxb6,cxb6,d5,Nb8,Nd4,Nd7,Rfe1,Nc5,Qc4,Rc8,Rac1,Ne4,Qd3,Nxg3,Qxg3,Bf6,Nb5,Rxe1+,Rxe1,Be5,f4,Bf6,Qf2,Rc5,Qd2,Bh4,Re4,Bf6,Qe3,Qd7,Qd3,g5,f5,Be5,g4,Rc8,Na3,Re8,Nc4,Qxa4,Nxd6,Qa1+,Kg2,Re7,Nc4,f6,d6,Rd7,Nxe5,fxe5,Rxe5,Qxb2+,Re2,Qb3,f6,Qa4,Qg6,Qc6+,Kf2,Rf7,Re7,Rxf6+', 'Qxf6,gxf6,d7,Qd6,Re8+,Kf7,d8=Q,Qxd8,Rxd8', 'https://lichess.org/training/ZMSm0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZMSYG', 'Blitz', 'EdgarCarreno', 1648, 'gcallen', 1620, 'e4,c5,e5,Nc6,c3,Nxe5,d4,cxd4,cxd4,Nc6,d5,Qa5+,Bd2,Qxd5,Nc3,Qc5,Nf3,e6,Bb5,Nf6,O-O,a6,Ba4,b5,Bb3,d5,Be3,Qd6,Qc1,Bb7,Rd1,Be7,a4,b4,Ne2,a5,Ned4,O-O,Qc2,Rac8,Qd3,Ne5,Nxe5,Qxe5,Nf3,Qc7,Rac1,Qd7,Rb1,Bc5,Bf4,Rfe8,Ne5,Qd8,Bg5,h6,Bh4,g5,Bg3,Nh5,Bc2,Nxg3', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/ZMSYG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zMTK5', 'Rapid', 'And08__06', 1944, 'B62514859STEFAN', 1945, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,h3,d6,Bf4,c5,e3,Nc6,a3,a6,Be2,Nd7,O-O,Qb6,Bh2,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/zMTK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zMtUF', 'Blitz', 'rihaT1', 1530, 'borczon', 2072, 'e4,d6,f4,Nf6,Nc3,e5,Nf3,Nc6,Bc4,Be7,d3,O-O,O-O,Bg4,Be3,Nd4,Bxd4,exd4,Ne2,c5,f5,a6,a4,Rb8,Qe1,Nd7,Qg3,Bxf3,Rxf3,Ne5,Rf4,Bg5,Bd5,Bxf4,Nxf4,Kh8,Nh5,g6,f6,Rg8,Bxf7,Nxf7,Nf4,Qxf6,Rf1,Ne5,Nd5,Qe6,Nf4,Qd7,Qg5,Rgf8,Qh6,Ng4', 'Nxg6+,Kg8,Rxf8+,Rxf8,Qxf8#', 'https://lichess.org/training/zMtUF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zMuDj', 'Blitz', 'berndhoy', 2290, 'kars78', 2278, 'e4,c5,Nf3,d6,Nc3,Nc6,d3,Nf6,g3,e6,Bg2,Be7,O-O,O-O,Re1,d5,Bf4,Nh5,exd5,Nxf4,dxc6,Nxg2,Kxg2,Qc7,cxb7,Bxb7,Qe2,g5,h3,h5,Kg1,h4,g4,Qf4,Kg2,f5,Qxe6+,Rf7,Nd5,Bxd5,Qxd5,Rd8,Qe5,fxg4,Qxf4,gxh3+,Kxh3,Rxf4,Ne5,Bd6,Ng4,Rdf8,Re3,c4,Re6,Bc5,Rg6+,Kh7,Rxg5,Rf3+,Kxh4,Be7,Rh1,Rg8,Nf6+,Bxf6', 'Kg4+,Rh3,Rxh3#', 'https://lichess.org/training/zMuDj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmv1J', 'Blitz', 'koiranark', 1776, 'makiavelli2011', 1754, 'e4,g6,d4,Bg7,e5,e6,Nc3,Ne7,Nf3,O-O,Be3,d6,Bd3,dxe5,Nxe5,Nbc6,f4,Nxd4,Bxd4,Qxd4,Qf3,Nd5,Nxd5,Qxd5,Be4,Qa5+,c3,Rb8,O-O,Bxe5,fxe5,Qxe5,Kh1,b6,Rad1,Ba6,Rfe1,Qa5,Rd2,Qxa2,Red1,c5,Rd7,Qxb2,Rf1,Bxf1,Qxf1,a5,Bc6,Qxc3,h4,Rfd8', 'Qxf7+,Kh8,Qxh7#', 'https://lichess.org/training/zmv1J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZMVdW', 'Rapid', 'Michael_LoL', 1965, 'eunoia59', 2001, 'e4,e6,Nc3,d5,Nf3,Nf6,e5,Nfd7,d4,c5,dxc5,Nxc5,Bd2,Nc6,Be2,Be7,O-O,a6,Bf4,O-O,Nd4,Nxd4,Qxd4,b5,Bg3,Bb7,Qg4,b4,Qxb4,d4,Rad1,Qc7,Qxd4,Rad8,Qe3,Bc6,Rxd8,Rxd8,Rd1,Rb8,b3,Nd7,Bxa6,Bc5,Qd3,Nxe5,Bxe5,Qxe5,Bb5,Bxb5,Nxb5,g6,Nd4,Rd8,c3,Qh5,Qc2,Bd6,g3,Bc5,Ne2,Rc8,Nf4,Qf3,c4', 'Bxf2+,Qxf2,Qxd1+', 'https://lichess.org/training/ZMVdW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmwT3', 'Rapid', 'frank76', 1751, 'an_archia', 1728, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,c5,c4,Nc6,a3,dxc4,Qxc4,cxd4,O-O,Nge7,Qa4,Qa5,Qc2,h5,Nbd2,Nf5,Nc4,Qc7,Re1,Be7,Bg5,Na5,Rac1,Bxg5', 'Nd6+,Qxd6,exd6', 'https://lichess.org/training/zmwT3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmWwD', 'Rapid', 'budialen', 2286, 'BlackkDragon', 2545, 'e4,c5,c3,Nf6,e5,Nd5,g3,e6,Bg2,Nc6,Nf3,d6,exd6,Bxd6,O-O,O-O,d4,Nf6,dxc5,Bxc5,Bg5,Qxd1,Rxd1,Ne4,Rf1,f6,Be3,Bxe3,fxe3,Rd8,Nd4,Nxd4,exd4,Nd6,Nd2,Rb8,Rae1,b6,Bh3,Kf7,Nf3,Ke7,Bxe6,Bxe6,d5,Nc4,Rxe6+,Kf7,Re4,Nxb2,Ne5+,Kf8,Nc6,Nd3,Nxb8,Rxb8,Rd4,Ne5,d6,Ke8,d7+,Nxd7,Re1+,Ne5,g4,Rc8,c4,Kf7,Rf4', 'Nd3,Ref1,Nxf4', 'https://lichess.org/training/zmWwD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmwxR', 'Rapid', 'irfan_h', 1890, 'zulfiyakholova02', 1874, 'd4,Nf6,c4,e6,Nf3,b6,Nc3,Bb4,Bg5,Bxc3+,bxc3,Bb7,e3,d6,Be2,Nbd7,O-O,O-O,h3,h6,Bh4,e5,d5,Nc5,Nd2,Rc8,Qc2,c6,e4,cxd5,cxd5,Qe7,c4,Rc7,a4,Rfc8,a5,Ba6,axb6,axb6,Rfb1,Rb8,Nb3,Nxb3,Rxb3,Bxc4,Bxc4,b5,Qe2,Rxc4,Rxb5,Rbc8,f3,g5,Bf2,Qd7,Rab1,Rc1+,Rxc1,Rxc1+,Kh2,Nh5,Be3', 'Rh1+,Kxh1,Ng3+,Kh2,Nxe2', 'https://lichess.org/training/zmwxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zMxvz', 'Rapid', 'allyh32215', 1621, 'Brigo68', 1627, 'e4,e5,Bc4,Nf6,Nc3,Nc6,Nf3,Bb4,Nd5,O-O,a3,Bc5,Nxe5,Nxe5,d4,Nf3+,gxf3,Bb6,Bg5,Ba5+,b4,Bb6,Rg1,Kh8,Bxf6,gxf6,e5,Rg8,Kd2,fxe5,Rxg8+,Kxg8,Qg1+,Kh8,dxe5,d6,Nxb6,axb6,exd6,Qxd6+,Kc3,Bf5,Rd1,Qf6+,Kb3,Rg8,Qe1,Qg6,Ka4,Qc6+,Kb3,Qg6,Qe5+,f6,Qxc7', 'Bxc2+,Kb2,Bxd1,Bxg8,Qxg8', 'https://lichess.org/training/zMxvz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zMyCU', 'Classical', 'BlueKnight22', 1671, 'bookrey', 1650, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd5,Nf6,Qe5+,Be7,Bg5,d6,Qf4,O-O,Bd3,Nh5,Bxe7,Qxe7,Qf3,Nf6,O-O,Qe5,c3,Be6,Nd2,d5,exd5,Bxd5,Qf5,Qd6,Nc4,Qc6,f3,b5,Ne3,c4,Nxd5,Qc5+,Kh1,cxd3', 'Nxf6+,gxf6,Qxc5', 'https://lichess.org/training/zMyCU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZMyjE', 'Rapid', 'Tactics_Architect', 2051, 'Idol12', 2004, 'e4,c5,Nc3,Nc6,f4,a6,a4,e6,Bc4,Nge7,d3,Ng6,Nf3,Be7,O-O,O-O,Qe1,Kh8,Qg3,Bh4,Nxh4,Qxh4,Qxh4,Nxh4,f5,exf5,exf5,d6,g4,Ne5,h3,f6,Ba2,Bd7,Nd5,Bc6,Bd2,b5,Be1,Nhf3+,Kf2,Nxe1,Raxe1,b4,Nc7,Ra7,Ne6,Rb8,Bb3,a5,Kg3,Bd7,h4,Bxe6,fxe6,Re7,g5,Rf8,gxf6,gxf6,Rf2,f5,h5,f4+,Kh3,f3,Rg1,Rf5,Kh4,h6,Rg3,Rf4+,Kh3,Kh7,Bd5,Rf5', 'Be4,Kh8,Bxf5', 'https://lichess.org/training/ZMyjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZmYvQ', 'Rapid', 'keic', 1920, 'san511', 1881, 'e4,g6,d4,d6,f4,f6,Bd3,Nh6,Nf3,Nf7,h4,h5,Be3,Bg4,Nc3,c6,a4,e6,Qd2,f5,O-O-O,Bg7,Rde1,O-O,Nh2,Nd7,exf5,exf5,Nxg4,hxg4,h5,gxh5,Rxh5,Nh6,Reh1,Rf6,g3,d5,Qh2,Qf8,Rg5,Kf7,Nd1,a6,c4,b5,cxd5,cxd5,axb5,axb5,Bxb5,Ra1+,Kd2,Nb6,Nc3,Rxh1,Qxh1,Qb4,Qh5+,Kg8,Kc2,Nc4,Bc1,Na5,Qe8+,Kh7,Nxd5', 'Qb3+,Kb1,Qxd5', 'https://lichess.org/training/ZmYvQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmyWX', 'Rapid', 'Ton29', 1808, 'Ekors55', 1612, 'd4,Nf6,h3,g6,Bf4,Bg7,e3,O-O,c3,d6,Bd3,c5,Nf3,cxd4,exd4,Qb6,Qc2,Nc6,Nbd2,Nd5,Bg3,e5,dxe5,dxe5,O-O,Bd7,Rab1,Rac8,Qd1,a5,Re1,Rfe8,Nc4,Qc7,Qd2,f6,Re2,Nf4,Bxf4,exf4,Be4,Ne5,Nfxe5,fxe5,Nd6,Qb8,Nxc8,Qxc8,Rd1,Bc6,Bxc6,Qxc6,f3,g5,Qd3,Qf6,Red2,h5,Qd5+,Kh7,Qxb7,g4,hxg4,hxg4,fxg4,Re7,Qe4+,Kg8,Rd8+,Kf7,Qf5,Qxf5,gxf5,Kf6,R8d5,Kxf5,Rxa5,Kg4,c4,e4,Re1,e3,b3', 'Bc3,Rd5,Bxe1', 'https://lichess.org/training/zmyWX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZmYz8', 'Classical', 'Fire75', 1795, 'OYechecs', 1614, 'd4,e6,c4,d5,Nc3,dxc4,Nf3,Nc6,e3,Bb4,Bxc4,Nf6,O-O,Bxc3,bxc3,O-O,a4,h6,Rb1,Ne4,Qd3,f5,Bb2,a5,Rfd1,Ng5,d5,Nxf3+,gxf3,Qg5+,Kf1,Ne5,Qd4,Nxc4,Qxc4,b6,dxe6', 'Ba6,Qxa6,Rxa6', 'https://lichess.org/training/ZmYz8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zmzNT', 'Blitz', 'Rabel001', 1819, 'Mondja', 1817, 'd4,g6,Bg5,Bg7,e4,c6,Nc3,Qa5,Qd2,Nf6,O-O-O,Nxe4,Nxe4,Qxa2,Qb4,d6,Nxd6+,exd6,Qxd6', 'Qa1+,Kd2,Qa5+,c3,Qxg5+', 'https://lichess.org/training/zmzNT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZN024', 'Rapid', 'PureChess64', 1933, 'Teketek1', 1998, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Bb6,Bc4,Na5,Be2,d5,exd5,Qxd5,Bf3,Qe5,c3,Nc4', 'Qa4+,Bd7,Qxc4', 'https://lichess.org/training/ZN024');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zn196', 'Rapid', 'MyKnightIsChamp', 1750, 'leisureforce', 1658, 'd4,Nf6,c4,c5,e3,cxd4,exd4,g6,Nf3,Bg7,Nc3,O-O,Bd3,d5,b3,Bg4,h3,Bd7,Ne5,Be6,Be3,Nc6,f4,Qa5,Qd2,Nb4,Bb1,a6,a3,Nc6,b4,Qc7,Bd3,b5,cxb5,axb5,Nxb5,Qd8,O-O,Qc8,Rfc1,Bxh3,gxh3,Qxh3,Bf1,Qg3+,Kh1,Nxe5,fxe5,Ng4,Bf4', 'Nf2+,Qxf2,Qxf2', 'https://lichess.org/training/Zn196');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zn2xf', 'Blitz', 'chessman102', 2277, 'openfriendlywide', 2206, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,f5,Bxb5,axb5,Nxb5,Ra4,Nbc7+,Kd7,O-O,Rxe4,Qh5,Nd4,c3,Ne2+,Kh1,Kc6,g3,Be6,Nxe6,fxe6,Ne3,f4,Qf3,d5,Qxe2,fxe3,fxe3,Bc5,Rf7,Qb6,a4,Bxe3', 'a5,Ra8,axb6,Rxa1+,Kg2', 'https://lichess.org/training/zn2xf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zN3OO', 'Rapid', 'WASP-12b', 2059, 'tourist2016', 2113, 'Nf3,e6,g3,f5,e4,fxe4,Ne5,Nf6,d3,exd3,Bxd3,Nc6,Ng4,Bc5', 'Nxf6+,Qxf6,Qh5+,Qf7,Qxc5', 'https://lichess.org/training/zN3OO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZN3Vr', 'Classical', 'ksayers57', 1773, 'cocal1949', 1717, 'd4,d5,c4,e6,cxd5,exd5,Nc3,c6,Bf4,Nd7,e3,Bb4,a3,Bxc3+,bxc3,Ngf6,Bd3,O-O,Ne2,Re8,O-O,Kh8,Rc1,Ne4,c4,Ndf6,cxd5,cxd5,Nc3,Qa5,Nb5,Nd2,Bc7,b6,Re1,Re6,Nd6,Re7,Bd8,Rd7,Bxf6,Rxd6,Be5,Rd8,Qh5,Ne4,Bxe4,dxe4,Qh6,Rg8,Re2,Bg4,Rec2,Rae8,Rc7,Be6,d5,Bxd5,Rc8,Rxc8,Bxg7+,Rxg7', 'Rxc8+,Rg8,Qf6#', 'https://lichess.org/training/ZN3Vr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZN4a9', 'Rapid', 'Annunak', 1623, 'OdalO', 1666, 'e4,e5,Bc4,Nf6,Nc3,Bb4,Nf3,Nc6,O-O,O-O,Re1,a6,Nd5,b5,Nxb4,Nxb4,Bb3,d5,Nxe5,Qd6,d4,dxe4,a3,Nc6,Bxf7+,Rxf7,Nxf7,Kxf7,c3,Bg4,Qb3+,Be6,Qc2,Ng4,g3,Nf6,Bf4,Qd5,Bxc7,Bh3,Re3,Ng4,Qxe4', 'Nxe3,Qxd5+,Nxd5', 'https://lichess.org/training/ZN4a9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZN4ci', 'Rapid', 'Omygood71', 1972, 'morsar', 1935, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,c6,Nf3,Nbd7,e3,Be7,h3,O-O,Rc1,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Nd2,f6,Nxe4,f5,Ng3,Nf6,a3,Ne4,Nxe4,fxe4,Qc2,Qh4,g3,Qf6,Bg2,e5,dxe5,Qxe5,Bxe4,h6,Bg2,Bf5,Qc3,Qe6,Qb3,Be4,O-O,Bxg2,Kxg2,Qe4+,Kh2,Rf3,c5+,Kh8,Rc4,Qd5,Qc3,Raf8,Rf4', 'R8xf4,exf4,Rxc3', 'https://lichess.org/training/ZN4ci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zn570', 'Rapid', 'nello1l', 1724, 'ognirg64', 1688, 'd4,e6,e4,c6,Bd3,d5,Nf3,Nf6,e5,Nfd7,O-O,c5,dxc5,Bxc5,Bf4,Nc6,a3,Qb6,b4,Be7,Re1,Nd4,Nbd2,a5,Nxd4,Qxd4,Be3,Qxe5,Bc5,Qf6,Bxe7,Qxe7,bxa5,Rxa5,a4,O-O,Bb5,Nf6,Nb3,Ra8,h3,Ne4,Qd4,Bd7,Bxd7,Qxd7,f3,Ng3,Kf2,Nf5,Qb4,Rfc8,Rec1,Rc4,Qd2,Rcxa4,Nc5,Qb5,Nxa4,Rxa4,Rxa4,Qxa4,Rb1,Qh4+,Kg1,g6,Rxb7,d4,Rb4,e5,c3,Qg3,cxd4,Nh4,dxe5', 'Nxf3+,Kf1,Nxd2+', 'https://lichess.org/training/Zn570');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zn91y', 'Blitz', 'metalniki3', 1751, 'Bobthe', 1743, 'e4,c5,Nf3,a6,Be2,h6,d3,Nc6,b3,d6,Bb2,Qb6,Nbd2,e5,O-O,g5,Nc4,Qc7,Ne3,Be7,h3,h5,Nh2,Be6,g3,Bxh3,Re1,Bd7,Nd5,Qd8,Bxh5,Be6,g4,Bxd5,exd5,Nb4,c4,Nf6,a3,Nbxd5,cxd5,Nxd5,Qf3,Nf4,Qxb7,Rb8,Qc6+,Kf8,b4,Nxd3,Qd5,Rxh5,gxh5,Nxe1,Rxe1,cxb4,Ng4,Kg7,Rxe5,dxe5,Bxe5+,Kf8,Qe4,Rb5,Qh7,Qd1+,Kg2,Qxg4+,Bg3,Bd6,Qh8+,Ke7,h6,Bxg3,fxg3,Re5', 'Qxe5+,Qe6,Qxe6+,Kxe6,h7', 'https://lichess.org/training/Zn91y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZNaol', 'Rapid', 'ARUNKUMAR147', 2102, 'beatlpetrs', 1764, 'g3,d5,Bg2,e5,d3,Nf6,Nf3,Nc6,O-O,Bd6,c3,Bg4,Qc2,O-O,e4,d4,c4,Nd7,a3,h6,Nh4,Be7,Nf5,Bxf5,exf5,Nf6,Qe2,Qd7,Qf3,Na5,Nd2,c5,b4,cxb4,axb4,Nc6,b5,Nb4,Ba3,Nc2,Bxe7,Qxe7,Rab1,Rab8,Qe2,Nb4,Ne4,Nxe4,Bxe4,a5,bxa6,Nxa6,Qd2,Nc5,Qb4,b6,Ra1,Qd6,f3', 'Nxe4,Qxd6,Nxd6', 'https://lichess.org/training/ZNaol');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZNCCP', 'Rapid', 'imperishableavinash', 1641, 'Davidvdm', 1628, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Bc5,Qh5,Qe7,Bxf7+,Qxf7,Qxc5,Nc6,Nxc3,Nge7,Be3,d6,Qb5,a6,Qd3,O-O,O-O-O,Nb4,Qd4,Nxa2+,Nxa2,Qxa2,Qd5+,Qxd5,exd5,Bf5,Ne2,Be4,Nc3,Bxg2,Rhg1,Be4,Nxe4,Nf5,Nc3,Rae8,Rg5,Nxe3,fxe3,Rxe3,Rdg1,g6,Kd2,Ref3,h4,Rf2+,Ne2,Re8,h5,Rexe2+,Kd3,Kg7,hxg6,hxg6,Rxg6+,Kf7,Rg7+,Ke8,Rxc7,Rxb2', 'Rg8+,Rf8,Rc8+', 'https://lichess.org/training/ZNCCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZncnB', 'Rapid', 'Denny82', 1772, 'zabkav', 1761, 'e4,c5,Nc3,Nc6,Bc4,e6,d3,Nf6,Nge2,d5,exd5,exd5,Bb3,Bg4,h3,Bh5,g4,Bg6,Bg5,d4,Ne4,Bxe4,dxe4,Be7,f3,Qa5+,Qd2,Qxd2+,Kxd2,O-O-O,Bxf7', 'Nxe4+,fxe4,Bxg5+', 'https://lichess.org/training/ZncnB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zNEYZ', 'Rapid', 'wenko', 1718, 'germanxd', 1754, 'e4,e6,f4,d5,Nc3,dxe4,Nxe4,Nf6,Qe2,Nxe4,Qxe4,Bc5,Nf3,O-O,d4,f5,Qd3,Bb4+,c3,Ba5,Be2,Nc6,Bd2,Bd7,O-O-O,b5,Ne5,Nxe5,fxe5,Rb8,g4,fxg4,Bxg4,b4,c4,c5,dxc5,b3,a3,Bxd2+,Rxd2,Qg5,Qg3,Kh8,h4,Qg6,h5,Qe4,Rg1,Qxc4+,Kb1,Rf1+,Rxf1,Qxf1+,Rd1,Qc4,Rxd7', 'Qc2+,Ka1,Qc1#', 'https://lichess.org/training/zNEYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zngDO', 'Rapid', 'lamedoran', 1773, 'Zitti', 1761, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Bf4,e6,Nf3,Bb4+,Nc3,Bxc3+,bxc3,O-O,Bd3,N8d7,e5,f6,exf6,Nxf6,Ng5,h6,Ne4', 'Nxe4,Bxe4,Rxf4', 'https://lichess.org/training/zngDO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zNGvd', 'Rapid', 'm-lorenz', 1812, 'LucaEnglert', 2106, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d4,d6,c4,c5,d5,Bf5,Bg5,Nbd7,Qd2,Ne4,Qc1,Qb6,Nc3,Rfe8,Bh6,Nxc3,bxc3,Nf6,Bxg7,Kxg7,Nh4,Be4,f3,Bxd5,cxd5,Nxd5,c4,Nb4,a3,Nc6,Qc3+,Kg8,Rab1,Qa6,f4,Nd4,Rf2,Rab8,e3,Nc6,f5,Ne5,fxg6,hxg6,Nf3,Nxc4,Ng5,Rf8,Rbf1,Ne5,Bd5,e6,Nxe6,fxe6,Bxe6+,Kg7,Rf7+,Rxf7,Rxf7+,Kh6,Rf4,Rh8,g4,Qd3,Qxd3,Nxd3,Rf3,Ne5,Rh3+,Kg7,Rg3,Re8,Bd5,b5,Rg2,a5,h4,b4,h5,g5,axb4,axb4,Rf2,Rf8', 'h6+,Kxh6,Rxf8', 'https://lichess.org/training/zNGvd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zNhwl', 'Classical', 'epineda', 1606, 'hm_odi', 1608, 'd4,f5,Bf4,Nf6,e3,g6,Qd2,Bg7,Nc3,O-O,f3,d6,e4,e5,Bh6,Nc6,Bxg7,Kxg7,exf5,Bxf5,Bd3,Bxd3,Qxd3,Nxd4,O-O-O,c6,Nge2,Nxe2+,Nxe2,b5,Qxd6,Qb6,Qe7+,Rf7,Qd6,a5,Ng3,a4,Qxe5,Re8,Qg5,c5,Nf5+,Kg8,Nh6+,Kg7,Nxf7,Kxf7,Qf4,c4,Rd7+,Kg8,Rd6,Nh5,Rxb6,Nxf4,Rxb5,Rd8,b3,a3,bxc4,Ne2+,Kb1,Nc3+,Kc1,Nxa2+,Kb1,Nc3+,Ka1,Nxb5,cxb5,Rd2,Ka2,Rxc2+,Kxa3,Kf7,b6,Rc8,Ka4,Ke7,Rd1,Rc2,b7,Rb2,Re1+,Kd6,Rd1+,Kc6,Rc1+,Kxb7,Rg1,Kc6,h4,Kd5,g4,Ke5,Re1+,Kf4,h5,gxh5,gxh5,Kxf3,Rg1,Rh2,Rg5,Kf4,Ra5', 'Ra2+,Kb4,Rxa5,Kxa5,Kg5', 'https://lichess.org/training/zNhwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZniAe', 'Blitz', 'FM jerom5588', 2616, 'GM Sergey_Kasparov', 2590, 'Nf3,Nf6,g3,b6,Bg2,Bb7,d3,e6,O-O,c5,e4,d5,e5,Nfd7,Re1,Nc6,c3,Be7,d4,cxd4,cxd4,Rc8,Nc3,O-O,h4,h6,Bf4,Ba6,a3,Na5,Rc1,Nc4,Rc2,b5,Nb1,b4,axb4,Bxb4,Nfd2,Ndb6,Qg4,Kh7,Rec1,Qd7,Bf1,Nxd2,Bxa6,Rxc2,Bd3+,Kh8,Bxc2,Nxb1,Bxb1,Nc4,h5,Bd2,Rxc4,Bxf4,Rc5,Bg5,Qd1,f5,exf6,gxf6,Qc2,f5,Rc7,Qd6,Rc6,Qe7,Qe2,Re8,Qc2,Bf6,Rc7,Qd6,Qa4,Re7,Rc8+,Kg7,Rc6,Qd7,Qc2,Bxd4,Rc8,Bf6,b4,Re8', 'Rc7,Qxc7,Qxc7+', 'https://lichess.org/training/ZniAe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zNk9g', 'Blitz', 'korzenny2018', 2095, 'FM carloseduar100', 2219, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,O-O,O-O,c3,Nbc6,h3,a6,Be3,Bf5,Qe2,Qd7,Nh4,Bxd3,Qxd3,Rfe8,Nd2,Ng6,Nf5,Bf4,Rae1,Re6,Bxf4,Nxf4,Qc2,Rae8,Ne3,Rg6,Nf3,Qxh3', 'Qxg6,hxg6,gxh3', 'https://lichess.org/training/zNk9g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZnKdL', 'Rapid', 'gohgoh', 1859, 'yhari', 1938, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,e5,Ng8,O-O,Ne7,Bd3,Ng6,Bxg6,hxg6,f4,Bc5+,Kh1', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/ZnKdL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZnKWo', 'Rapid', 'MarcusLi490', 2097, 'HY_AKA', 2097, 'd4,Nf6,c4,e6,Nf3,d5,g3,Bb4+,Bd2,Nc6,a3,Bxd2+,Nbxd2,Ne7,Bg2,c5,O-O,cxd4,Nxd4,Qb6,N4b3,Bd7,cxd5,Ba4,dxe6,fxe6,Rc1,Rd8,Rc3,Ned5,Rd3,Bb5,Rf3,O-O,Re1,Ng4,e3,Rxf3,Nxf3', 'Ndxe3,Qxd8+,Qxd8', 'https://lichess.org/training/ZnKWo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('znLiI', 'Rapid', 'nikolicmomir', 1919, 'gala22', 1961, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,a3,Be6,e3,dxe3,Qxd8+,Rxd8,Bxe3,Nge7,Be2,Nf5,Bd2,Nfd4,Nxd4,Nxd4,Bd1,Nc6,b3,Nxe5,O-O,Bc5,Be2,O-O,Bf4,Bd4,Ra2,c5,Nd2,b6,Nf3,Nxf3+,Bxf3,Bf5,Rd2,Bc3,Rxd8,Rxd8,Rd1,Rd3,Rxd3,Bxd3,Bd1,a6,a4,b5,axb5,axb5,cxb5,Bxb5,Bd6,Bd4,g3,f6,Kg2,Kf7,Bf3,Ke6,Bf4,g5,Bd2,Bd3,Bd1,Ke5,f3,Kd5,h4,h6,hxg5,hxg5,f4,gxf4,Bf3+,Be4,Bxf4,Bb2,Kf2,f5,Bd1,Kd4,Ke2,Kc3', 'Be5+,Kb4,Bxb2', 'https://lichess.org/training/znLiI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZNM1Q', 'Rapid', 'Sergey_Vorozhtsov', 1755, 'shakkimestari', 1770, 'e4,c5,Nf3,Nc6,h3,a6,Be2,g6,O-O,Bg7,c4,d6,Nc3,Nf6,d3,h6,Nd5,Be6,b3,O-O,Bb2,Nh5,Rb1,Bxd5,exd5,Nb8,Nh4,Nf6,f4,Nbd7,f5,g5,Nf3,b5,Nh2,b4,Ng4,Nxg4,Bxg4,a5,d4,a4,dxc5,dxc5,Bxg7,Kxg7,d6,f6,Re1,Re8,Bh5,exd6,Bxe8,Ne5,Bxa4,Qc8,Qxd6,Qxf5,Qxc5', 'Nf3+,gxf3,Qxc5+', 'https://lichess.org/training/ZNM1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZnMJN', 'Blitz', 'Xaocko', 1677, 'Tlaps', 1918, 'e4,e5,Nf3,d6,Bc4,Be7,c3,Nf6,d3,c5,O-O,O-O,Be3,Bg4,h3,Bh5,Nbd2,a6,a3,b5,Ba2,Qc7,Bg5,Nbd7,g4,Bxg4,hxg4,Nxg4,Bxe7,Ndf6,Bxf8,Rxf8,Ng5,h6,f3,Ne3,Qe2,Nxf1,Nxf7,Rxf7,Qxf1,d5,exd5,Kh8,d6,Qd7,Bxf7,Qxf7,Ne4,Nh5,Qh3,Nf4,Qg4,h5,Qc8+,Kh7,d7,Qg6+,Kf2', 'Qg2+,Ke1,Qe2#', 'https://lichess.org/training/ZnMJN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zNMWx', 'Rapid', 'mg008', 2141, 'Jussupow_Artur', 2175, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nb5,Qd8,Qf3,c6,Bc4,Nf6,Nc3,Bg4,Qf4,e6,Nf3,Bd6,Ne5,Nbd7,d4,Bf5,h3,Qc7,g4,Nxe5,dxe5,Bxe5,Qf3,Bxc2,O-O,Bg6,Re1,O-O-O,Be3,Bh2+,Kg2,Be5,Bxa7,Bxc3,Qxc3,Ne4,Rxe4,Bxe4+,f3,Bd5,Bxd5,Rxd5,Rc1,Rhd8,a4,f5,a5,fxg4,Bb6,gxf3+,Qxf3,Rd2+,Kf1,Qd7,Bxd8,Qxd8,a6,Qd3+', 'Qxd3,Rxd3,a7', 'https://lichess.org/training/zNMWx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZNmX3', 'Rapid', 'frigi', 1712, 'arnodag', 1806, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Be6,Re1,Bd6,Nc3,Nxc3,bxc3,Bxc4,dxc4,O-O,Bg5,f6,Bh4,Qc8,Qd5+,Kh8,Rad1,Qf5,Qb5,Qxc2,Qxb7,Na5,Rc1', 'Qxc1,Rxc1,Nxb7', 'https://lichess.org/training/ZNmX3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZNoBY', 'Blitz', 'EwoutVanbesien', 1955, 'Pawn_Sacrifice666', 1969, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,Qe2,Qe7,Qxe4,d6,Bb5+,c6,Ba4,Qxe5,Qxe5+,dxe5,Nc3,Bf5,d3,Bc5,Bd2,O-O,f3,b5,Bb3,a5,a4,b4,Ne4,Bd4,c3,bxc3,bxc3,Bb6,g4,Bg6,h4,h5,Ke2,Na6,Bc4,Nc5,Rhf1,Rad8,g5,Rd7,Be3,Nxe4,fxe4,Bc7,Rab1,Rb8,Rxb8+,Bxb8,Rb1,Bd6,Rb6,Rc7,Ra6,Rb7,Rxc6,Rb2+,Kf3,Ba3,d4,exd4,Bxd4,Rh2,Kg3,Rh1,Bd5,Bb2,Rxg6,Kh7,Ra6,Rd1,Rxa5,Rd3+,Kf4,Bc1+,Ke5,Rf3,Ra7', 'Bf4+,Kf5,Bd6#', 'https://lichess.org/training/ZNoBY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZNpbF', 'Rapid', 'Kannnixmehr', 1895, 'MGstut', 1743, 'e4,c6,g3,d5,e5,Bf5,d4,e6,Bg2,f6,Ne2,Nd7,f4,Qc7,O-O,O-O-O,Be3,h5,c3,Nh6,Qa4,Qb6,Nd2,Ng4,Bf2,Kb8,b4,h4,c4,Qxb4,Qxb4,Bxb4,Nf3,dxc4,Nxh4,Nb6,Nxf5,exf5,Rab1,Ba3,h3,Nxf2,Kxf2,Na4,Bxc6,Nb2,Bg2,Nd3+,Kg1,b6,d5,Rc8,Nc3,fxe5,fxe5,Nxe5,Rxf5,Nd3,Rf7,Rc7', 'Rxc7,Kxc7,Nb5+,Kd7,Nxa3', 'https://lichess.org/training/ZNpbF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('znpg7', 'Blitz', 'CM HabibAmini', 2353, 'TOMADO1', 2330, 'd4,d5,Bf4,c6,e3,e6,c3,f5,Nf3,Nf6,Nbd2,Be7,Bd3,O-O,Ne5,Nbd7,Qe2,Nxe5,dxe5,Nd7,g4,g5,gxf5,gxf4,f6,Nxf6,exf6,Bxf6,Rg1+,Kh8,Qh5,Qe7,O-O-O,a5,exf4,a4,a3,c5,Nf3,b5,Ne5,Bxe5,fxe5,Bd7,Rg3,Rf7,Rdg1,b4,f4,bxa3,bxa3,c4,Bc2,Qxa3+,Kd2,Qe7,Qg4,Qf8,h4,Rxf4,Qg7+,Qxg7,Rxg7,Rf2+,Kc1,Rxc2+,Kxc2,Bb5,Rb7,Bc6,Rc7,Bb5,Rgg7,a3,Rxh7+,Kg8,Rcg7+,Kf8,h5,a2,h6,a1=Q', 'Rh8#', 'https://lichess.org/training/znpg7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZNpxA', 'Rapid', 'ralliv', 1761, 'MrTanaNios', 1761, 'd4,c6,Bf4,d5,e3,g6,Be5,f6,Bg3,Bg7,Nf3,Nh6,Bd3,Nf5,Nbd2,b5,c3,a5,b4,axb4,cxb4,Ra4,a3,Nxg3,hxg3,Bg4,Bxg6+', 'hxg6,Rxh8+,Bxh8', 'https://lichess.org/training/ZNpxA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zNQQe', 'Rapid', 'Mrk1371', 1616, 'silentur', 1670, 'g3,e5,e4,Nf6,Bg2,Bc5,a3,d6,b4,Bb6,c4,c6,c5,dxc5,bxc5,Bxc5,Qc2,Qd4,Bf1,Qxa1,Nc3,Bxa3,Nge2,Bb4,Bg2,Bxc3,dxc3,O-O,O-O,Qa6,Bg5,Nbd7,f4,exf4,Nxf4,h6,Bh4,Ng4,c4,b5,Nh5,bxc4,Qc3,f6,e5,Ndxe5,h3,Qb6+,Kh1,a5,hxg4,Bxg4,Bxf6,gxf6,Rxf6,Rxf6,Qxe5,Bxh5,Qxf6,Rf8,Qe6+,Rf7,Qc8+,Rf8,Qe6+,Bf7,Qg4+,Kh7,Be4+,Kh8,Qf5,Bg8', 'Qe5+,Rf6,Qxf6#', 'https://lichess.org/training/zNQQe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('znrd1', 'Rapid', 'KiyoBrandreth', 1863, 'tonelskie21', 2011, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,d6,Bc4,a6,a4,Nf6,O-O,Qc7,d3,Be7,e5,dxe5,fxe5,Nd7,Bf4,Ndxe5,Nxe5,Nxe5,Re1,f6,Qe2,O-O,Bxe5,fxe5,Qxe5,Bd6,Qh5,Kh8,Rf1,Bd7,d4,cxd4,Bd3,g6,Bxg6,Bc6,Rxf8+,Rxf8,Ne4,Bxh2+,Kh1,Be5,Re1,Kg8,Bxh7+', 'Qxh7,Qxh7+,Kxh7,Ng5+,Kg6', 'https://lichess.org/training/znrd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZNrFB', 'Blitz', 'flaviasolva', 2035, 'chapang_79', 2041, 'd4,e6,Nf3,d5,e3,c5,c3,Nc6,Bd3,c4,Bc2,Bd6,Nbd2,f5,O-O,Nf6,b3,b5,a4,cxb3,Bxb3,bxa4,Bxa4,Bd7,c4,O-O,cxd5,exd5,Ba3,Bxa3,Rxa3,Ne4,Nxe4,fxe4,Nd2,Kh8,f3,exf3,Nxf3,h6,Qd3,Ne7,Nh4,Bxa4,Rxa4,Qd7,Ra6,Rxf1+,Qxf1,Qg4,g3,g5,Qf6+,Kg8,Qxe7,gxh4,Rf6,hxg3', 'Qf7+,Kh8,Rxh6#', 'https://lichess.org/training/ZNrFB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('znriQ', 'Rapid', 'softice4', 1922, 'mh1347', 1942, 'e4,e5,Bc4,Nc6,Bxf7+,Kxf7,f4,exf4,Nf3,Nf6,c3,Qe7,O-O,Nxe4,d3,Nf6,Bxf4,Qc5+,d4,Qb6,Bg5,Qxb2,Bxf6,gxf6,Nbd2,Qxc3,Ne4,Qe3+,Kh1,Qxe4', 'Ng5+,Ke7,Nxe4', 'https://lichess.org/training/znriQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZNSja', 'Blitz', 'blackknigh', 1636, 'pereyrafg', 1626, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,Ng5,d5,exd5,Ne5,Bb5+,c6,dxc6,bxc6,Ba4,Nf6,O-O,O-O,Bf4,Ng6,Bxc6,Nxf4,Bxa8,Ba6,Bf3,Bxf1,Qxf1,N6d5,Ne4,Bb6,Nbd2,f5,Ng3,Qc7,c4,Nb4,b3,d3,Bd5+,Nbxd5,cxd5,Qc3,Nf3,Ne2+,Kh1,Bxf2,Nxe2,dxe2,Rc1,e1=Q,Rxe1,Bxe1,Nxe1,Re8,Nf3,Qb2,h3,Qxa2,Qc4,Qa5,d6+,Kh8,Ng5,Rf8,Nf7+,Rxf7,Qxf7,Qd8,Qxf5,Qxd6', 'Qc8+,Qd8,Qxd8#', 'https://lichess.org/training/ZNSja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zNSTF', 'Rapid', 'garryhoke', 1836, 'Heartless_MF', 1867, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,b6,Qxb6,Nf3,d6,b3,g6,Bb2,Bg7,Nbd2,Nbd7,e4,O-O,Be2,a5,O-O,a4,Nc4,Qc7,Re1,Nxe4,Bxg7,Kxg7,Bd3,Nc3,Qd2,Nxd5,Be4,e6,Bxd5,exd5,Qxd5,Bb7,Qxd6,Qxd6,Nxd6,Bxf3,gxf3,Ra6,Rad1,Nf6,Re3,axb3,axb3,Rd8,Nf5+,gxf5,Rxd8,Ra1+,Kg2,Nh5,Rc8,Nf4+,Kg3,Ne6,f4', 'Rg1+,Kh4,Rg4+,Kh5,Nxf4#', 'https://lichess.org/training/zNSTF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zNtps', 'Classical', 'CodinHill', 1792, 'kushalsinh', 1898, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,d5,exd5,Nxd5,h3,Be6,c3,Qf6,d4,e4,Nh2,Qg6,Re1,Bxh3,g3,Bd6,Bxd5,Bxg3,Rxe4+,Kf8,Qf3,Bf4+,Kh1,Bxc1,Qxh3,Bxb2,Bxc6', 'Qxc6,Nd2,Bxa1', 'https://lichess.org/training/zNtps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zNvEO', 'Blitz', 'jogoborito', 1573, 'StudentOfTheGame', 1730, 'e4,e6,Nf3,d5,e5,c5,d4,cxd4,Nxd4,Nc6,Bb5,Ne7,Nc3,Bd7,Bxc6,bxc6,Bg5,Qa5,Bd2,Qc7,Qe2,Ng6,f4,Bb4,a3,Bxc3,Bxc3,Nxf4,Qg4,Ng6,Nf3,O-O,h4,c5,h5,Ne7,Ng5,d4,Qe4,g6,hxg6,fxg6,Rxh7,Nf5,Bd2,Bc6,Qg4,Qxe5+,Kf1,Ng3+,Kg1,Ne2+,Kh1,Ng3+,Kg1,Ne2+,Kh1,Qe4,Qh3,Qxg2+,Qxg2,Bxg2+,Kxg2,Nf4+,Bxf4,Rxf4,Kg3,Raf8,Rah1,R4f5,Rh8+,Kg7,R1h7+,Kf6,Ne4+,Ke5,Nxc5,Rf3+,Kg4,R8f4+,Kg5,Rg3+,Kh6,g5,Nd7+,Kd6,Kg6,g4,Nf8,Rgf3,Rd7+,Kc6,Nh7,g3,Rdd8,g2,Rc8+,Kb6,Rb8+,Ka6,Rhd8,g1=Q+,Ng5,Rg3', 'Rd6+,Ka5,b4+,Ka4,Ra6#', 'https://lichess.org/training/zNvEO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zNy28', 'Blitz', 'Caruanaheat-2890', 2152, 'farhadoshirin', 2090, 'd4,f5,c4,Nf6,Bg5,e6,Nc3,Be7,Nf3,O-O,Bxf6,Bxf6,e3,d6,Bd3,Nd7,a3,c5,d5,exd5,Nxd5,Bxb2,Rb1,Bxa3,Qb3,Qa5+,Ke2,Bb4,Ra1,Qd8,Nxb4,cxb4,Qxb4,Nc5,Bc2,b6,Nd4,f4,Rhe1,fxe3,fxe3,Bg4+,Nf3,Qf6,Rf1,Bxf3+,gxf3,Qh4,Rf2,Rfe8,Qc3,a5,Rg1,g6,Bxg6,hxg6', 'Rxg6+,Kf7,Qg7#', 'https://lichess.org/training/zNy28');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('znyAT', 'Rapid', 'medhatelbeshbeshy', 2178, 'randomchampgamer', 2208, 'e4,e5,Bc4,Nf6,d3,Nc6,Ne2,Bc5,O-O,d6,Bg5,h6,Bh4,Be6,b3,a6,Nbc3,b5,Bxf6,Qxf6,Bd5,Bd7,Ng3,Bd4,Qd2,b4,Na4,Bxa1,Rxa1,a5,c3,bxc3,Qxc3,O-O', 'Bxc6,Bxc6,Qxc6', 'https://lichess.org/training/znyAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZO1mK', 'Blitz', 'SarfTM', 1525, 'Mamukoya', 1971, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Be6,Re1,Bd6,Ng5,O-O,Qh5,h6,Nxe6,fxe6,Nc3,Ncb4,Re2,Qf6,a3,Nxc3,bxc3,Nd5,Bd2,c6,Rf1,Nf4,Bxf4,exf4,Bxe6+,Kh8,Bc4,Qxc3,Rfe1,f3,Re6,fxg2', 'Rxh6+,gxh6,Qxh6#', 'https://lichess.org/training/ZO1mK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zo383', 'Rapid', 'jeanjacques5', 1695, 'TrueBrothers', 1651, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qa4,Be7,Be3,O-O,Bc4,a6,O-O-O,d6,Bxc5,Bd7,Qb3,dxc5,e5,b5,Nxb5,axb5,Bxb5,Bxb5,Rxd8,Rfxd8,exf6,Bxf6,Qxb5,Rxa2,c3,Ra1+,Kc2,Rxh1,h3,Rhd1,Kb3,h6,f4,R8d2,g4,Rb1', 'Qe8+,Kh7,Qe4+', 'https://lichess.org/training/zo383');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zo3Bb', 'Rapid', 'Big_Fluff', 1715, 'victor0403', 1724, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d3,d6,h3,Qe7,Nc3,Na5,Bg5,Nxc4,dxc4,Be6,Nd5,Bxd5,cxd5,O-O-O,Rb1,h6,Bh4,g5,Bg3,Nh5,b4,Bb6,Bh2,Nf4,c4,h5,Qb3,a6,c5,Ba7,cxd6,Rxd6,a4,g4,Bxf4,exf4,e5,Rg6,d6,cxd6,exd6,Qxd6,Qxf7,gxf3,Rfd1,Rxg2+,Kh1,Qb6,Qf5+,Kb8,Qe5+,Ka8,Qxh8+,Bb8,Rd8', 'Rh2+,Kxh2,Qxf2+,Kh1,Qg2#', 'https://lichess.org/training/zo3Bb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zo4jf', 'Rapid', 'm1m199', 1653, 'TiimeR', 1695, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,Bd3,Ne7,Bxf5,Nxf5,O-O,Qb6,b3,c5,Bb2,Nc6,dxc5,Bxc5,Nbd2,O-O,c4,Rad8,Qc2,Ncd4,Nxd4,Nxd4,Bxd4,Bxd4,Rae1,Qa5,Nf3,Bc3,Rc1,d4,Ng5,g6,f4,b5,h4,bxc4,h5,Qc5,hxg6', 'd3+,Qf2,Bd4', 'https://lichess.org/training/zo4jf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zo4rx', 'Rapid', 'JDM53', 1787, 'lucacarriere', 1736, 'e4,e5,Nc3,Nc6,Nf3,Nf6,Bb5,d6,O-O,Bd7,a3,Be7,d3,a6,Ba4,O-O,h3,Na5,Bxd7,Qxd7,Nh2,Nc6,f4,exf4,Bxf4,Nd4,Nf3,Ne6,Be3,Rad8,Nd4,c5,Nf5,d5,Nxe7+,Qxe7,exd5,Nxd5,Nxd5,Rxd5,Rf3,Rfd8,Qf1,Qd7,Qf2,c4,dxc4,Rd1+,Rxd1,Qxd1+,Kh2,Qd6+,Rg3,f6,Qxf6', 'Qxg3+,Kxg3,gxf6', 'https://lichess.org/training/Zo4rx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zo59l', 'Rapid', 'mangouste', 1770, 'HubertNeutron', 1615, 'e4,e5,Nf3,Nc6,Nc3,d6,d4,exd4,Nxd4,Nge7,Bb5,g6,Bg5,Bd7,O-O,a6,Bxc6,Bxc6,Nxc6,bxc6,Re1,Bg7,Qd2,Rb8,b3,O-O,Rad1,Qd7,h3,Rfe8,e5,Nf5,Qf4,dxe5,Rxd7,exf4,Ne4,Rbc8,Bxf4,Be5,Bg5,Bd4,Rxd4,Nxd4,Nf6+,Kf8,Nxe8,Rxe8', 'Bh6+,Kg8,Rxe8#', 'https://lichess.org/training/Zo59l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZO5x9', 'Blitz', 'sparc', 1746, 'madrainbowchess', 1638, 'd4,f5,Nc3,Nf6,Bg5,e6,Bxf6,Be7,Bxe7,Qxe7,e4,fxe4,Nxe4,O-O,Nf3,d5,Ng3,Nc6,Bd3,e5,O-O,e4,Re1,Qb4,Bxe4,dxe4,Nxe4,Qxb2,Qd3,Nb4,Qc4+,Kh8,Rab1,Qxc2,Qxb4,Bf5,Rb2,Qc6,Nc5,Qg6,Ne5,Qg5,Rb3,a5,Qxb7,Bc2,Rg3,Qd2,Rf1,Bg6,Nxg6+,hxg6,Qxc7,Rae8,Rxg6', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/ZO5x9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zO9ER', 'Rapid', 'Zydan', 1683, 'magda_puol', 1691, 'e3,d6,b3,Nf6,Bb2,g6,g3,Bg7,Bg2,O-O,Ne2,Nc6,O-O,Bg4,d3,Qd7,Qe1,Bh3,Nf4,Bxg2,Kxg2,Ne5,c4,Neg4,Nd2,e5,Nd5,Nxd5,cxd5,Qb5,e4,Qxd3,Qd1,Bh6,Qxg4,Qxd2,Ba3,f5,Qf3,fxe4,Qxe4,Rf7', 'Bc1,Qd4,Qxd4,exd4,Bxh6', 'https://lichess.org/training/zO9ER');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zob9x', 'Rapid', 'bigmoney', 1640, 'Czerwony_X', 1710, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,Nc6,Bxc6,dxc6,Qxd8+,Kxd8,Bg5,Bg4,Bxf6+,gxf6,f3,Bh5,Nc3,Bg6,Rad1+,Ke7,f4,Rhe8,g4,Kf8,f5,Bxf5,exf5,Rad8,h4,Rd6,Rxd6,cxd6,Rd1,d5,Kf2,b5,Ne2,Re4,Kf3,Ra4,a3,Ra5,Ra1,b4,Ke3,Ke7,Nd4,Kd6,a4,Ke5,Nb3,d4+,Kf3,Rd5,Nd2,Rc5,Rc1,a5,Nb3,Rd5,Re1+,Kd6,Rd1,Ke5,Nd2,Rc5,Re1+,Kd5,Rc1,Ke5,Ke2,Kf4,Kd3,Kxg4,Kxd4,Rd5+,Ke3,Rxf5,Rg1+,Kxh4,Rh1+,Kg4,Rxh7,Rc5,Rg7+,Kf5,Nf3,Ke6,Nd4+,Ke7,Rg8,f5,Rg5,Kf6,Rh5', 'f4+,Kxf4,Rxh5', 'https://lichess.org/training/Zob9x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zOCq0', 'Classical', 'Yokbeoglum', 1927, 'wise33', 1740, 'e4,e6,d4,d6,Nf3,Be7,c4,c6,Nc3,Bd7,Be2,h6,O-O,Nf6,e5,Nh7,exd6,Bxd6,Ne5,Bxe5,dxe5,O-O,Ne4,f5,exf6,Nxf6,Nd6,Qc7,b3,Na6,Bb2,Rad8,Qd2,Be8,Rad1,Bg6,Be5,Qe7,f3,Rd7,Qc3,Rfd8,c5,b6,Bxa6,Nd5,Qc1,bxc5,Qxc5,Nc7,Qxc6,Nxa6,Qxa6,Qg5,f4,Qh5,Qc4,Bf5,Rf3,Bg4,Rg3,Bf5,Qd4,g6,Rc3,Rxd6,Bxd6,Qe2,Qd2,Qa6,Rc7,Qb6+,Qd4', 'Rxd6,Rc8+,Kf7', 'https://lichess.org/training/zOCq0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZOecW', 'Rapid', 'frzne_abn', 1835, 'Xray_Blitzkriegsler', 1754, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,d6,c3,Nbd7,Bg5,h6,Bd2,O-O,Qc1,Kh7,Nh4,e5,Be3,Ng4,h3,Nxe3,Qxe3,f5,dxe5,Nxe5,Nf3,c6,Nbd2,Qa5,Nb3,Qd5', 'Ng5+,hxg5,Bxd5', 'https://lichess.org/training/ZOecW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZOEPl', 'Rapid', 'zealfredo', 1759, 'miguelnm', 1822, 'e4,e6,d4,d5,Nd2,c5,exd5,cxd4,dxe6,Bxe6,Ngf3,Nc6,Bb5,Bc5,Nb3,Bb4+,Bd2,Bxd2+,Qxd2,Bxb3,axb3,Qe7+,Kd1,O-O-O,Re1,Qc5,Bxc6,Qxc6,Rxa7,Ne7,Qf4,Nd5,Ra8+,Kd7,Qg4+,Kc7,Qg3+,Kb6,Ra4,Qc5,Rc4,Qa5,Ra4,Qc5,Nxd4,Nb4,c3,Rxd4+,cxd4', 'Qc2#', 'https://lichess.org/training/ZOEPl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zOeZY', 'Blitz', 'el_fun0304', 1852, 'Adaline_Rouse', 1958, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bd2,Bb4,Rc1,Nbd7,Nf3,O-O,e3,b6,Bd3,Bb7,O-O,c5,a3,Ba5,Na4,Bxd2,Qxd2,c4,Bb1,Rc8,Nc3,a6,a4,h6,h3,Bc6,Qc2,b5,axb5,axb5,Ne5,b4,Nxd7,Qxd7,Ne2,Ba4,Qf5,Qxf5,Bxf5,Rb8,Kh2,Bb5,Rfe1,Ra8,Nf4,Ra2,Rb1,g6,Bg4,h5,Be2,Ba4,Rec1,Bb3,g4,hxg4,hxg4,Kg7,g5,Rh8+,Kg3,Ne4+,Kg2,Nd2,Ra1,Rxb2,Ra7,Ne4', 'Ne6+,Kg8,Ra8+,Kh7,Rh1#', 'https://lichess.org/training/zOeZY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zOfQI', 'Blitz', 'polyure', 1567, 'AlB552', 1600, 'e4,e5,Nf3,d6,Bc4,Nc6,Nc3,Be6,Bxe6,fxe6,d3,Nf6,Bg5,Be7,Bxf6,Bxf6,O-O,O-O,Qd2,Nd4,Nxd4,exd4,Ne2,c5,Ng3,Qd7,a3,Rae8,f4,b6,f5,exf5,Rxf5,Be5,Raf1,Rxf5,Nxf5,Rf8,Qg5,g6,Nh6+,Kg7,Rxf8,Kxf8,Qd2,Kg7,h3,Bg3,Ng4,Qf7,Qg5,Qa2', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/zOfQI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zOgRr', 'Rapid', 'WannabeGMtoo', 1611, 'saifulramu', 1604, 'd4,d5,Bf4,Nc6,Nc3,e5,dxe5,f6,exf6,Nxf6,Bg5,Bd6,e3,O-O,Bd3,Be7,Nf3,Ne4,Bxe7,Qxe7,Nxd5,Qe6,Nf4,Qf5,Bc4+,Kh8,O-O,Qc5,Qd3,Nf6,Rfd1,Bg4,Bb3,Qe7,c3,Rfd8,Qe2,Ne5,h3,Bxf3,gxf3,Rxd1+,Rxd1,Rd8,Rxd8+,Qxd8,Ne6,Qc8,f4,c6,fxe5,Nd5,Qg4,Qg8,Nc7,Qd8,Qe6,Qg5+,Kh2,Ne7,f4,Qh4,Qg4,Qf2+,Qg2,Qxe3,Ne6,g6,h4,Nf5,h5,Nh4,Qg3,Qe2+,Kh3,Nf5,hxg6,Nxg3', 'g7+,Kg8,Nd4+,Kxg7,Nxe2', 'https://lichess.org/training/zOgRr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZoGvH', 'Rapid', 'UzumMoses', 1999, 'kelvobaba', 1723, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,O-O,Be2,Nc6,O-O,b6,Be3,Bg4,h3,Bc8,Qd2,Bb7,d5,Nb8,f5,Nbd7,Bd3,Ne5,Nxe5,dxe5,Bh6,Nh5,fxg6,fxg6,Bxg7,Kxg7,Ne2,Qd6,Qg5,e6,Kh1,exd5,exd5,Bxd5,Rad1,e4,Bxe4', 'Rxf1+,Rxf1,Bxe4', 'https://lichess.org/training/ZoGvH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZoHgf', 'Blitz', 'rodsilva', 2084, 'nor2009', 2092, 'd4,d6,c4,Nf6,Nc3,g6,e4,Bg7,Bg5,O-O,f4,Nbd7,Nf3,h6,Bh4,Re8,Be2,e5,dxe5,dxe5,fxe5,Nxe5,Nxe5,Qxd1+,Rxd1,Rxe5,Rd8+,Re8', 'Bxf6,Rxd8,Bxd8,Bxc3+,bxc3', 'https://lichess.org/training/ZoHgf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZOhX7', 'Blitz', 'glmg', 1571, 'Noodles80', 1561, 'd4,d5,Nf3,Nf6,e3,e6,a3,a6,c4,Bd6,b4,O-O,Bb2,Ne4,cxd5,exd5,Nc3,Bf5,Be2,Nxc3,Bxc3,Re8,O-O,Be4,Nd2,Re6,Bf3,Rh6,g3,Qf6,Nxe4,dxe4,Bxe4,Qe6,Qf3,Nd7,Bxb7,Rb8,Bd5,Qh3,Bxf7+,Kh8,Qg2,Qf5,Bd5,Nf6,Bf3,Ng4,Bxg4,Qxg4,f3,Qf5,e4,Qh5,e5,Be7,g4,Qg6,h3,Rf8,f4,Qd3,Rfc1,Rxh3,Be1,Rxf4,Rc3,Qxd4+,Bf2,Qxc3,Re1,Bh4', 'Qa8+,Bd8,Qxd8+,Rf8,Qxf8#', 'https://lichess.org/training/ZOhX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zoiLH', 'Rapid', 'DrMikerstein89', 1942, 'agiosbill', 1995, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,Nc3,Nc6,Bg5,Be7,Qd2,Ne5,Be2,Nfd7,Bxe7,Qxe7,O-O-O,Nf6,Nxe5,dxe5,Bf3,c6,Rhe1,O-O,Ne4,Nxe4,Rxe4,f6,Rde1,Be6,Kb1,a5,h4,b5,h5,h6,Bg4,Bd5,R4e2,Qf7,b3,a4,Bf3,Bxf3,gxf3,axb3,cxb3,Ra3,Rg1,Rfa8,Qxh6,c5,Qe3,c4,h6,g5,f4,exf4,Qxf4,cxb3,h7+,Kh8,Rxg5,bxa2+,Ka1,Rxd3,Rg8+,Rxg8,hxg8=Q+,Kxg8,Qg4+,Kf8,Qc8+,Kg7,Qg4+,Qg6', 'Re7+,Kf8,Qxg6,Rd1+,Kxa2', 'https://lichess.org/training/zoiLH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zOjgs', 'Rapid', 'Sexy_master', 1918, 'rajgupt', 2174, 'e4,c5,Nf3,Nc6,d4,e6,Nc3,cxd4,Nxd4,Qb6,Nb3,Bb4,Qg4,g6,Be3,Qd8,f4,Nf6,Qf3,O-O,h4,Bxc3+,bxc3,b6,h5,Nxh5,Rxh5,gxh5,Qxh5,Qf6,e5,Qg6,Qh4,Qxc2,Rc1,Qe4,Kd2,Bb7,Bd3,Qxg2+,Bf2,f5,exf6,Qxf2+,Qxf2,Rxf6,Rg1+,Kf7,Qg3,Rf8,Bxh7,Ke8,Bg6+,Kd8,Qh4,Kc7,Rf1,Ne7,Bd3,Nd5,f5,exf5,Qc4+,Kb8,a4,f4,Be4,Ne3,Qd3,Bxe4,Qxe4,Nxf1+,Kc1,Ne3,a5,Kc7,a6,d5,Qe7+,Kc6', 'Nd4#', 'https://lichess.org/training/zOjgs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZOkm0', 'Blitz', 'DelTomelloso', 1837, 'IwinUlose1985', 1842, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,Na5,dxe5,Nxe4,Bxf7+,Kxf7,Qd5+,Ke8,Qxe4,Nc6,Bg5,Be7,e6,Bxg5,Nc3,d6,Nd5,Bf6,O-O,Ne5,Nxe5,Bxe5,f4,Bf6,g4,c6,Ne3,h6', 'Qg6+,Kf8,Qf7#', 'https://lichess.org/training/ZOkm0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zoLIW', 'Classical', 'Albtraum-11', 1644, 'NIKchesss', 1617, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,d4,exd4,Nxd4,Nxd4,Qxd4,O-O,O-O,d6,Nd5,Nxd5,Bxd5,c6,Bc4,b5,Bd3,Bb7,b3', 'Bf6,e5,Bxe5', 'https://lichess.org/training/zoLIW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZolNu', 'Blitz', 'leobsb', 1677, 'fanoftal2', 1715, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,g6,Nf3,Bg7,Be3,O-O,Qd2,Ng4,Bd4,Nxd4,Nxd4,Ne5,f4,Nc6,Nxc6,bxc6,O-O-O,d6,Be2,Rb8,g4,Qb6,b3,a5,Na4,Qb7,h4,Be6,h5,Bxb3,axb3,c5,hxg6,fxg6,f5,Qb4,fxg6', 'Qa3+,Kb1,Qa1#', 'https://lichess.org/training/ZolNu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZoLzQ', 'Rapid', 'nomadic_48', 1637, 'aody', 1645, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Bxc6,Bxc6,dxe5,Bxe4,exd6,Bxf3,Qxf3,Qxd6,Qxb7,Rd8,O-O,Ne7,Qxa7,Nc6,Re1+,Be7,Qa4,O-O,Nc3,Ne5,Bf4,Bf6,Ne4,Qe6,Nxf6+,gxf6,Bg3,Qf5,Qa5', 'Nf3+,gxf3,Qxa5', 'https://lichess.org/training/ZoLzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZomOc', 'Rapid', 'chess_ptr', 1803, 'Thinkergame', 1683, 'e4,e5,f4,d5,exd5,e4,Nc3,Nf6,d3,Bb4,Ne2,Bxc3+,Nxc3,Qe7,Qe2,Bf5,h3,Qb4,a3,Qa5,g4,Nxd5,Bd2,e3,gxf5,O-O,Nxd5,exd2+,Qxd2,Qxd5,Bg2,Re8+,Kd1,Qb5,c4,Qa4+,Qc2', 'Qxc2+,Kxc2,Re2+,Kc3,Rxg2', 'https://lichess.org/training/ZomOc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zOOll', 'Blitz', 'V_S_M', 1582, 'Soca_Shark', 1576, 'e4,d6,d4,Nf6,Nc3,g6,Bg5,Bg7,Bc4,O-O,Qd2,c5,Nf3,cxd4,Nxd4,Nc6,O-O-O,Ne5,Bb3,a6,f4,Nc6,Kb1,Qb6,Nxc6,bxc6,f5,Rb8,fxg6,hxg6,h4,e6,h5,Nxh5,Bh6,c5,Bxg7,Kxg7,g4,c4,gxh5,cxb3,hxg6', 'bxa2+,Ka1,Qxb2#', 'https://lichess.org/training/zOOll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zoOW5', 'Blitz', 'Dhakshniga', 1568, 'KAMRAN051qureshi', 1608, 'c4,e5,g3,d6,Nc3,Nf6,Bg2,Nc6,Nf3,h6,O-O,Be6,b3,Qd7,Bb2,Be7,d4,e4,Nxe4,Nxe4,d5,Bh3,dxc6,bxc6,Bxg7,Rg8,Bxh6,Bxg2,Kxg2,Rh8,Bf4,Qh3+,Kg1,O-O-O,Qd4,Nf6,Qxa7,Ng4,Rad1,Nxh2,Qa8+,Kd7,Ne5+,Ke6,Qxc6', 'Nf3+,Qxf3,Qh2#', 'https://lichess.org/training/zoOW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zopbx', 'Blitz', 'Quenta', 2219, 'FM wagnerovsky', 2330, 'd4,Nf6,e3,c5,c3,cxd4,exd4,g6,f4,Bg7,Nf3,O-O,Bd3,d6,O-O,Nc6,f5,gxf5,Ng5,e6,Rf3,h6,Nh3,Ne4', 'Bxe4,fxe4,Rg3', 'https://lichess.org/training/zopbx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zOpYP', 'Classical', 'karljw34', 2035, 'SteveRaven', 1950, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,b5,Bd3,h6,Bh4,b4,e5,Bb7,exd6,Bxd6,Ne4,Bxf4+,Kb1,Nd5,Rhe1,O-O,g3,Bg5,Bxg5,hxg5,Nxg5', 'Nc3+,bxc3,Bxf3', 'https://lichess.org/training/zOpYP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZosIS', 'Rapid', 'OlegRok', 1711, 'El-Ess', 1728, 'd4,d5,c4,dxc4,e4,e5,d5,c6,Bxc4,Nf6,Nc3,Bb4,f3,Bxc3+,bxc3,O-O,Bg5,Nbd7,Ne2,Qa5,dxc6,bxc6,O-O,Ba6,Bxa6,Qxa6,Ng3,Qb6+,Kh1,c5,Nf5,Rad8,Qc2,h6,Bh4,g5,Bg3,Kh7,h3,Nh5,Bf2,Ng7,Ne3,Kh8,Nd5,Qd6,Rfd1,Nf6,c4,Nxd5,cxd5,f5,Bxc5,Qc7,Rac1,Rf7,Qb2,fxe4,fxe4,Rf4,d6,Qd7,Qxe5,Re8,Qb2,Rexe4,a3,Rc4,Rxc4,Rxc4,Bb4,g4,hxg4,Rxg4,Qf6,Kh7,Qe7,Qc6,Qe2', 'Rh4+,Kg1,Qb6+,Qf2,Rh1+,Kxh1,Qxf2', 'https://lichess.org/training/ZosIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zOSps', 'Blitz', 'Masterr22113', 1651, 'YakimovPH', 1665, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nc6,Bd2,Nf6,Nf3,Bg4,Ne4,Qf5,Ng3,Qg6,Bb5,O-O-O,Bxc6,bxc6,Be3,e5,h3,Bxf3,Qxf3,exd4,Bd2,Qxc2,Rc1,Qxb2,Qxc6,Bd6,Nf5,Rhe8+,Kf1,Qxd2', 'Nxd6+,Rxd6,Qxc7#', 'https://lichess.org/training/zOSps');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zov0b', 'Rapid', 'marsking', 1569, 'razornfs', 1635, 'e4,e5,Nf3,Nc6,d3,Nf6,Be2,Bc5,a3,a6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,O-O,Bd7,Nd2,O-O-O,Bf3,Qe6,Ne4,Bb6,Nc3,Kb8,Na4,Ba7,Nc3,Nd4,Be4,f5,Bd5,Qe7,Ne2,c6,Nxd4,cxd5,Nb3,h6,Re1,g5,h3,g4,hxg4,fxg4,c3,h5,d4,e4,Qd2,Rdg8,Qf4+,Ka8,Nc5,Bxc5,dxc5,Qxc5,Be3,Rf8,Bxc5,Rxf4,Be3,Rf7,Red1,Rf5,Rd2,Bc6,Bd4,Rhf8,Re1,h4,Bc5,Re8,Be3,h3,gxh3,gxh3,Kh2,Rh5,Rg1,Bd7,Rg3,Be6,Rd1,Rg8,Rxg8+,Bxg8,Rg1,Be6,Rg6,Bc8', 'Rg8,Kb8,Bf4+,Ka7,Rxc8', 'https://lichess.org/training/zov0b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zov4S', 'Rapid', 'dyrhaug87', 1725, 'pepeillo', 1919, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,e6,Bc4,c6,O-O,Be7,Nbd2,O-O,Re1,Nd7,c3,b5,Bb3,g6,Nf1,Bb7,Ne3,Bf6,Nxd5,cxd5,Bf4,Re8,Qe2,a6,Bc2,Rc8,Rac1,Nb6,Be5,Nc4,Bxf6,Qxf6,b3,Na3,Bd3,Rc7,Qb2,Qe7,Ne5,Rec8,h3,b4,cxb4,Qxb4,Rxc7', 'Qxe1+,Bf1,Rxc7', 'https://lichess.org/training/zov4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zOVpk', 'Classical', 'sunilpunia', 1883, 'ddj', 1799, 'Nf3,b6,a3,Bb7,d3,Nf6,e4,d6,c4,e5,Be2,Be7,O-O,O-O,b4,Nbd7,Bb2,a5,Nc3,axb4,axb4,c6,b5,c5,Ra4,Rxa4,Qxa4,Qc7,Ra1,Rb8,Nd2,g6,Nd5,Nxd5,exd5,f5,Qc2,Nf6,g4,fxg4,Ne4,Qd7,Nxf6+,Bxf6,Qd1,h5,f4,gxf3,Bxf3,e4,Bxf6,exf3,Qxf3,Rf8,Rf1,Bc8,Qe4,Qf7,Rf4', 'Bf5,Rxf5,gxf5,Qg2+,Kh7', 'https://lichess.org/training/zOVpk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zovV0', 'Bullet', 'JS_Kasparov', 1604, 'NM oberschlumpf', 2049, 'd4,c5,d5,Nf6,c4,e6,Nc3,exd5,cxd5,d6,e4,g6,Nf3,Bg7,Bd3,O-O,O-O,Re8,h3,a6,a4,Nbd7,Bf4,Qc7,Rc1,Nh5,Bh2,Ne5,Nxe5,Bxe5,Bxe5,Rxe5,f4,Re8,Qf3,Nf6,e5,Nd7,f5,Nxe5,Qg3,Nxd3,fxg6,fxg6,Qxd3,Bf5,Qg3,Re5,Rce1,Rae8,Rxe5,Rxe5,Qf2,Qe7,Kh2,Re3,Kg1,Qg5,Qd2,Bxh3,Rf3,Re5', 'Qxg5,Rxg5,Rxh3', 'https://lichess.org/training/zovV0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zOWrU', 'Blitz', 'lefktra', 1882, 'Psicomagos', 1862, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,h6,h3,a6,Bf4,dxc4,e3,b5,a3,Bd6,Bxd6,Qxd6,Be2,O-O,O-O,Bb7,Qc2,Nbd7,e4,Nh5,e5,Qe7,Qd2,Rad8,g4,Bxf3,Bxf3,Qh4,gxh5,Qxh3,Bg2,Qxh5,Qe3,Kh8,f4,f5,Rad1,Nb6,Bc6,Qg4+,Kf2,Qh4+,Qg3,Qxg3+,Kxg3,Nd7,Bb7,Nb8,Rh1,c6,a4,b4,Na2,a5,Rh2,Rd7,Ba8,Ra7,Bxc6,Nxc6,d5,exd5,Rxd5,b3,Nc3,Nb4,Rd6,Kh7,Nb5,Rb7,Re2,Nd3,e6,Rf6,e7,Rxd6,Nxd6,Rxe7,Rxe7,Nxb2,Nxf5,Kg6,Nxg7,Nxa4,Ra7,b2,Rb7', 'c3,f5+,Kg5,Ne6+,Kxf5', 'https://lichess.org/training/zOWrU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZoXH5', 'Classical', 'poujou', 1689, 'aslan1956', 1677, 'c4,e5,Nc3,Nf6,g3,d6,Bg2,Be6,b3,c6,e3,Be7,Nge2,O-O,O-O,Na6,d4,exd4,exd4,Bd7,Re1,Bg4,d5,c5,Ne4,Nxe4,Bxe4,Bf6,Rb1,Bh5,Qc2,Bg6,Nf4,Nb4,Qe2,Bxe4,Qxe4,Re8,Qxe8+,Qxe8,Rxe8+,Rxe8,Bd2,a5,Re1,Rxe1+,Bxe1,Nxa2,Bxa5,Nc1,b4,cxb4,Bxb4,Be7,Ng2,Nd3,Ba3,Ne5,Ne3,g6,Kf1,b6,Ke2,h5,h4,f6,Kd2,Kf7,Kc3,f5,f4,Nd7,Kb4,Nc5,Kb5,Bd8,Kc6,Ke7,Bb4,Ne4,Nf1,Nc5,Bxc5,bxc5,Nd2,Ba5,Nb3', 'Be1,Nc1,Bxg3', 'https://lichess.org/training/ZoXH5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zp1eL', 'Classical', 'bendera1945', 1895, 'opqopq', 2019, 'Nf3,g6,g3,Bg7,Bg2,d5,d4,c5,O-O,cxd4,Nxd4,Nf6,Nc3,O-O,Bf4,Nbd7,Ndb5,e5,Bg5,a6,Nd6,Qb6,Nxc8,Qxb2,Ne7+,Kh8,Nexd5,Rac8,Rb1,Qa3,Rb3,Qd6,Rxb7,Rc5,Bxf6,Nxf6,Rb6,Qd8,Rxa6,e4,Qd4,Nd7,Qe3,Qc8,Ra3,f5,Rd1,Ne5,Rb3,Rd8,Rb5,Rdxd5,Rxd5,Rxc3,Qb6,Nc6,Rbc5,Bd4,Rd8+', 'Qxd8,Qxd8+,Nxd8,Rxc3,Bxc3', 'https://lichess.org/training/zp1eL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zp1oR', 'Rapid', 'Imjustatrash', 1624, 'rac00n', 1633, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,d6,Be2,Nf6,O-O,O-O,Bg5,c5,Qd2,Be6,Rfd1,Qe7,Nd5,Qd7,Bxf6,Bxd5,Qxd5,gxf6,Qxd6,Qxd6,Rxd6,Kg7,f4,Nc6,a3,Rad8,Rad1,Rxd6,Rxd6,Nd4,Bd3,Re8,b4,b6,Rd7,a6,Rb7,cxb4,axb4,b5,Rb6,Ra8,Kf2,a5,Ke3,a4,Kxd4', 'a3,Rxb5,a2,Ra5,Rxa5', 'https://lichess.org/training/zp1oR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZP2Ok', 'Rapid', 'falalala', 1949, 'pancasero7', 1906, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,h3,O-O,Nc3,d6,d3,h6,Be3,Bb6,Ne2,Be6,Qd2,Kh7,Bb3,Qd7,g4,Ne7,Ng3,Bxg4,hxg4,Qxg4,Kg2,Nh5,Rh1,Nxg3,fxg3,Ng6,Bxh6,Kg8,Bxg7', 'Nf4+,Qxf4,exf4', 'https://lichess.org/training/ZP2Ok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zp4ec', 'Rapid', 'Alboio', 1952, 'gardero', 1843, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,a3,Be6,Bb5,Nb8,f5,Bd7,Bc4,b5,Ba2,c6,Nc3,a5,Bd2,b4,axb4,axb4,Ne2,d5,Nxe5,dxe4,Bxf7+,Rxf7,Nxf7,Qb6+,d4,Rxa1,Qxa1,Kxf7,Be3,Nd5,Bf2,e3,Bg3,c5,Qa2,Bc6,Nf4,b3,cxb3,Nxf4,Bxf4,cxd4,b4+,Kf8,Qe6,e2,Re1,d3+,Kh1,Bxb4,Bd6+,Bxd6,Qxd6+,Kg8,Qxd3,Qf2,Qxe2', 'Bxg2#', 'https://lichess.org/training/zp4ec');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zP7ab', 'Rapid', 'abolith', 1889, 'Badger5', 1904, 'g3,d5,Bg2,g6,d3,Bg7,Nf3,c6,Nbd2,e5,O-O,Ne7,c4,O-O,a3,f5,Rb1,a5,b3,Be6,Bb2,e4,Bxg7,Kxg7,Nd4,Bf7,dxe4,dxe4,Nc2,Na6,Ne3,Qd4,Qc2,Rfc8,Rfd1,Qc5,Qc3+,Kg8,b4,axb4,axb4,Qd6,Nxe4,Qxd1+,Rxd1,fxe4,Bxe4,b5,c5,Nc7,Qf6,Ned5,Nxd5,Nxd5,Qb2,Re8,Bg2,Ra4,Rd4,Rea8,e4,Ra2,Qb3,Nf4,Qf3', 'Ne2+,Qxe2,Rxe2', 'https://lichess.org/training/zP7ab');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zp7m0', 'Rapid', 'TenSantana', 1733, 'Nicola_Tesla3', 1805, 'e4,c5,Nf3,Nc6,c3,d5,Bd3,dxe4,Bxe4,Nf6,Bxc6+,bxc6,O-O,e6,d3,Bd6,Na3,O-O,Nc4,Bc7,Bg5,h6,Bh4,g5,Bg3,Nd5,Nfe5,Bb7,Qh5,Kg7,Ne3,Nxe3', 'fxe3,Bxe5,Bxe5+', 'https://lichess.org/training/zp7m0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zp7vM', 'Blitz', 'Belicosevic', 1990, 'kotenix', 1918, 'c4,f5,Nc3,Nf6,g3,e6,Bg2,c6,d4,d5,cxd5,exd5,Bg5,Bd6,e3,O-O,Nf3,Qe8,Bxf6,Rxf6,O-O,Rh6,Nd2,Nd7,a3,Nf6,b4,Ne4,Ncxe4,fxe4,Qb3,Qh5,h4,Be6,b5,g5,Qd1,Bg4,f3,exf3,Bxf3,Bxf3,Qxf3,Qg6,hxg5,Qxg5,Kg2,Re8', 'Qf7+,Kh8,Qxe8+,Qg8,Qxg8+', 'https://lichess.org/training/zp7vM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZP8uN', 'Rapid', 'klaun2', 1625, 'keera92', 1843, 'e4,a5,Bc4,e6,d4,c6,Nc3,b5,Bd3,f6,Qh5+,g6,Qe2,b4,Nd1,Bg7,h4,Ne7,e5,f5,h5,h6,hxg6,Ba6,Bxa6,Nxa6,Qh5,Qb6,Be3,f4,Bxf4,Qxd4,Bg3,Qe4+,Ne2,Qxg2,f3,Rf8,Rf1,Nf5,Rf2', 'Nxg3,Rxg2,Nxh5', 'https://lichess.org/training/ZP8uN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zP9MF', 'Bullet', 'MrEebs', 1715, 'Jock-Scott', 1823, 'e4,c5,g3,d6,Bg2,Nf6,Nc3,g6,Nge2,Bg7,O-O,O-O,d3,Nc6,h3,a6,Kh2,e6,a3,Qc7,Be3,Rb8,Qd2,b5,Bh6,b4,axb4,Rxb4,Bxg7,Kxg7,b3,Bd7,f4,Bc8,Ng1,h5,Rae1,Nd4,Na4,Rb8,Nc3,h4,g4,Bb7,Nce2,Rfc8,Nc3,Bc6,Nf3,Nxf3+,Bxf3,Nd7,Qf2,Qa5,Ne2,Qd2,Qxh4,Qxc2,g5,Rh8,Qg3,Qxd3,Ng1,Rxb3,f5,exf5,exf5,Ne5,f6+,Kg8,Rxe5,dxe5,Qxe5,Bxf3', 'Qe8+,Kh7,Qxf7#', 'https://lichess.org/training/zP9MF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zp9pS', 'Rapid', 'dnk608', 1720, 'hared063', 1691, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Bg5,Be7,f3,a6,Qd2,O-O,O-O-O,Qc7,Kb1,Rd8,h4,Nxd4,Qxd4,Bc5,Qd2,Qb6,h5,d5,e5,Nd7,Bxd8,Qxd8,f4,b5,h6,g6,g4,Nb6,f5,exf5,gxf5,Bxf5,Bh3,Nc4,Qxd5,Qxd5,Rxd5,Bxc2+,Kxc2,Ne3+,Kb1,Nxd5,Nxd5,Rd8,Nf6+,Kf8,Rc1,Be3,Rc7,Bxh6,e6', 'Rd1+,Kc2,Rc1+,Kb3,Rxc7', 'https://lichess.org/training/zp9pS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZPakq', 'Rapid', 'splygin', 1704, 'Luks_solo', 1710, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,O-O,c3,d5,exd5,Nxd5,d4,exd4,cxd4,Bxd4', 'Nxd4,Nxd4,Qxd4', 'https://lichess.org/training/ZPakq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zpCf0', 'Classical', 'choi5659', 1627, 'Aleksey_Raev', 1649, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,e6,Bd2,Nf6,Ne4,Qf5,Nxf6+,Qxf6,Nf3,Bd6,Bc4,Nc6,Bc3,Ne7,d5,Qf4,O-O', 'Qxc4,Bxg7,Rg8', 'https://lichess.org/training/zpCf0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zpcm2', 'Blitz', 'FM berval', 2446, 'DVRazor', 2400, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Ng4,Bc1,Nf6,Bg5,e6,f4,Be7,Qd2,h6,Bxf6,Bxf6,O-O-O,Nc6,Nxc6,bxc6,Qxd6,Qxd6,Rxd6,Bb7,Na4,Be7,Rd3,c5,Re3,Bc6,Nb6,Rb8,Nc4,O-O,Ne5,Ba4,b3,Bb5,Bxb5,Rxb5,Rd1,Bf6,Nd7,Bd4,Red3,Re8,c3,Bf2,g3,c4,bxc4,Ra5,R1d2,Bg1,Rg2,Ba7,Ne5,Rc8,Rb2,Bc5,Kc2,Ba3,Rb7,Bc5,Kb2,f6,Ng6,Ba3+,Kb3,Kh7,Nh4,Bf8,f5,exf5,Nxf5,Re5,Rdd7,Rxe4,Nxg7,Kg6,Rf7,Rexc4,Rxf8,Rxc3+,Kb2,Rc2+,Kb3,R2c3+,Kb4,a5+,Kxa5,Rxf8,Ne6,Ra8+,Kb4,Rc2', 'Rg7+,Kf5,Nd4+,Ke5,Nxc2', 'https://lichess.org/training/Zpcm2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZpdsC', 'Rapid', 'Simon69', 1965, 'Tennismania', 1855, 'e4,e5,f4,exf4,Nf3,g5,Be2,g4,O-O,gxf3,Rxf3,Bh6,d4,d6,Bxf4,Bxf4,Rxf4,Be6,d5,Bd7,Bh5,Nh6,Qf3,Rf8,Rf6,Bg4,Bxg4,Nxg4,Rf4,Ne5,Qh5,Rh8,Nc3,Nbd7,Raf1,Qe7,Nb5,O-O-O,Nxa7+,Kb8,Nb5,Nf8,Qh3,Nfg6,Rf6,Rdg8,Qa3,Kc8,Qa8+,Kd7,Qxb7,Qd8,Qc6+,Ke7,Qc3,c5,dxc6,Qb6+,Nd4,Rc8,Kh1,Qc5,Qe3,Rhf8,Qg5,Ke8,Nf5,Rxc6,Ng7+,Kd7,Qf5+,Kc7,Qh3,Rc8,Rxf7+,Nxf7', 'Ne6+,Kb6,Nxc5', 'https://lichess.org/training/ZpdsC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZpfZM', 'Classical', 'Maloi555', 1851, 'Chessplayer1523', 1686, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bb4,O-O,Bxc3,dxc3,O-O,Bg5,h6,Bh4,d6,Bxf6,Qxf6,h3,Qg6,Qd3,Bxh3', 'Nh4,Qg4,Qxh3,Qxh3,gxh3', 'https://lichess.org/training/ZpfZM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zPiRw', 'Rapid', 'slypig123', 1742, 'e4jaque', 1629, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d4,exd4,e5,Ng4,O-O,Be7,Re1,O-O,Bxc6,dxc6,Nxd4,Bh4,g3,Bg5,Bxg5,Qxg5,Nf3,Qh5,Nh4,g5,h3,gxh4,hxg4,Bxg4,Qd3,hxg3,Qxg3,Kh8,Qh2,Rg8,Qxh5,Bxh5+,Kh2,Rad8,Nc3,Rd2,Ne4,Rxc2,Nf6,Rxf2+,Kh3,Rgg2,Nxh5,Rh2+,Kg4,Rfg2+,Ng3,h5+,Kf3,Rxb2,e6,Rhf2+,Ke4,fxe6,Nxh5,Rb4+,Kd3,Rf3+,Re3,Rxe3+,Kxe3,Kg8,Nf6+,Kf7,Rf1,Ke7,Ng8+,Kd6,Rd1+,Ke5,Rd7,c5,Rxc7,c4,Rc5+,Kd6,Kd4', 'c3+,Kxc3,Kxc5', 'https://lichess.org/training/zPiRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZpJ3u', 'Rapid', 'linto', 1948, 'daftfire01', 2041, 'e4,e5,f4,Nc6,Nf3,exf4,d4,d6,Bc4,Nf6,Nc3,Bg4,Bxf4,Bxf3,Qxf3,Nxd4,Qd3,c5,Nb5,Nxb5,Bxb5+,Nd7,Bxd6,Bxd6,Qxd6', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/ZpJ3u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZPjCz', 'Rapid', 'Bacrot999', 2129, 'absalalom', 2263, 'e4,d6,Nf3,Nf6,d3,g6,h3,Bg7,Nc3,O-O,Be3,c5,Qd2,Nc6,Be2,Rb8,O-O,b5,Nh2,b4,Nd1,Re8,c3,e5,a3,a5,f3,Qb6,f4,bxc3,bxc3,d5,fxe5,Nxe5,d4,Nxe4,Qc2,cxd4,Bxd4,Qb3,Qc1,Nc4,Qf4,Bxd4+,cxd4,Be6,Nf3,Qb6,Bxc4,dxc4,Qxe4,Bxh3,Qh4,Bf5,Nc3,Qd6,Rfe1,h5,Rxe8+,Rxe8,Re1,Rxe1+,Qxe1,Qxa3,Nd5,Be6,Nf6+,Kf8,Ng5,Qd6,Qxa5,Qxd4+,Kh1,Qxf6', 'Nh7+,Kg7,Nxf6', 'https://lichess.org/training/ZPjCz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zpK9c', 'Blitz', 'tsavorite4', 1610, 'Alissonzera', 1599, 'e4,d6,Nf3,Nf6,Nc3,Bg4,Be2,g6,d4,Bg7,Be3,O-O,Qd2,Nbd7,h3,Bxf3,Bxf3,c6,Bh6,Ne8,Bxg7,Kxg7,g4,e5,d5,f5,gxf5,gxf5,Rg1+,Kh8,Qh6,Qe7,exf5,Rxf5,Be4,Rf4,O-O-O,Ndf6,f3,Ng8,Qh5,Nef6,Qg5,Nxd5,Nxd5,cxd5,Bxd5,Nf6,Bxb7,Rg8,Qh6,Qxb7,Rxg8+,Kxg8,Rg1+,Kh8', 'Qf8+,Ng8,Qxg8#', 'https://lichess.org/training/zpK9c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zPkXL', 'Rapid', 'dombe', 1825, 'Alturron', 2045, 'e4,c5,d4,cxd4,Qxd4,Nf6,Be2,d5,exd5,Nxd5,c4,Nb4,Qxd8+,Kxd8,Na3,e5,Be3,Bd7,Nf3,N8c6,O-O,Be7,Rfd1,Rc8,Rd2,b6,Rad1,Nxa2,Rxd7+,Ke8,b3,Bxa3,Nxe5,Nc3,Nxc6,Nxd1,Rxd1,Rxc6,Ra1,Bc5,Rxa7,Rf8,b4,Bxb4,c5,Bxc5', 'Bb5,Kd8,Bxc6', 'https://lichess.org/training/zPkXL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZPlkp', 'Blitz', 'FM TrispiosReturns', 2529, 'FallacyofComposition', 2550, 'e4,g6,d4,c6,Nf3,d5,Nbd2,dxe4,Nxe4,Nd7,Bd3,Ngf6,Bg5,Bg7,Qe2,O-O,O-O-O,Re8,Ne5,Qa5,Nc3,Nd5,Nxd5,cxd5,Nxd7,Bxd7,Kb1,e6,c3,a6,h4,Bb5,Bxb5,Qxb5,Qxb5,axb5,a3,h5,Kc2,f6,Be3,Kf7,Kb3,Ra4,f3,Rc4,Rhe1,Rec8,Re2,R8c6,Rde1,Bf8,g4,Bd6,Bd2,Bg3,Rh1,Bc7,Rg2,Bd6,gxh5,gxh5,Rhg1,Bf8,Rg6,e5,Be3,Re6,Rg8,Re8,Rh8,e4,f4,Ke6,Rxh5,Rc7,f5+,Kd7,Rh7+,Kc6,Rxc7+,Kxc7,Rg6,Be7,h5,Rh8,h6,Kd7,Bf4,Ke8,Rg7,Kf8,Kc2,Ke8,Kd2,Kf8,Ke2,Ke8,Kf2,Bf8,Rg6,Kf7,Kg3,Rh7,Kg4,Be7,Kh5,Bf8,Rg1,Be7,b4,Rh8,Ra1,Ra8,h7,Rh8,Bh6,Rxh7,a4,Bf8,Kg4,Rxh6,axb5,Rh2,Ra7,Rc2,Rxb7+,Be7,b6,Rxc3', 'Rxe7+,Kxe7,b7', 'https://lichess.org/training/ZPlkp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zpn0K', 'Rapid', 'Kriptobotanik', 1967, 'magnusistrash', 1914, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Bb4,Bd2,Bg4,Be2,Nbd7,a3,Bd6,O-O,O-O,Ng5,Bxe2,Qxe2,Re8,Qf3,c5,Nxd5,Nxd5,Qxd5,Nf6,Qxf7+,Kh8,Ne6,Qe7,Qxe7,Rxe7,Ng5,Re2,Nf7+,Kg8,Nxd6,Rxd2,dxc5,Rxc2,b4,b6,Rfc1,Rxc1+,Rxc1,bxc5,bxc5,Rb8,f3,Nd5,Kf2,Kf8,Rc2,Rb3,Ra2,Nf4,Ne4,Ke7,g3,Nd3+,Kg2,Kd7,a4,Kc6,Ng5,h6,Ne6,g6,Nd8+,Kxc5,Nf7,h5,Nh8,g5,Nf7,g4,fxg4,hxg4,Nh6,Ne5,h3,gxh3+,Kxh3,a5,Kh4,Kb4,g4,Ra3,Re2,Ng6+,Kg5,Nf8,Re4+,Kb3,Kf6,Rxa4,Rxa4,Kxa4,g5,Kb4,Kf7,Nd7,g6', 'Ne5+,Kf6,Nxg6', 'https://lichess.org/training/Zpn0K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zpoB5', 'Classical', 'umaia', 1858, 'Shizkun', 1812, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Qe2,Nf6,d4,Qb6,Bxd7+,Nbxd7,c3,e6,Nf3,Bd6,Nbd2,O-O,Nb3,Ne4,Ng5,Nxg5,Bxg5,h6,Bd2,e5,Qg4,f5,Qh5,exd4,O-O,Nc5,Nxd4,Qxb2,Rad1,Ne4,Be3,Nxc3,Rd2,Qa3,Nxf5,Rf6,Bd4,Rxf5,Qxf5,Rf8,Qe6+,Rf7,Rd3,Qa6,Rxc3', 'Bxh2+,Kxh2,Qxe6', 'https://lichess.org/training/zpoB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zppxo', 'Blitz', 'Bhakta-Monger', 1824, 'Kike851209', 1795, 'd4,d5,Nf3,Bg4,Ne5,Bf5,Bf4,f6,Nf3,Bg4,e3,Nc6,Nbd2,e6,Be2,Bd6,Bg3,Bxg3,hxg3,e5,c3,e4,Nh2,Bxe2,Qxe2,Qe7,a3,O-O-O,c4,f5,b4,a6,b5,axb5,cxb5,Na7,Nb3,Nf6,Nf1,Ng4,Nfd2,b6,Nb1,h5,Nc3,h4,Na2,hxg3,Rxh8,Rxh8,Kd2,Nxf2,Nb4,Rh1,Nc6,Nxc6,bxc6,Rxa1', 'Qa6+,Kd8,Qa8#', 'https://lichess.org/training/Zppxo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZpQ5k', 'Rapid', 'Marcostorres9922', 1977, 'Renzo_3sec_MA', 1646, 'd4,d5,Bg5,Bf5,Nc3,Nf6,Bd2,e6,Nf3,Bb4,Ne5,Nc6,f4,Nxe5,fxe5,Ne4,Nxe4,Bxd2+,Nxd2,c5,dxc5,Rc8,b4,f6,Nf3,fxe5,Nxe5,a5,bxa5,Rxc5,c4,Rxa5,e3,Qd6,Bd3,Qxe5,O-O,O-O,Bxf5,Rxf5,Rb1,Ra7,Re1,h5,c5,g6,Ra1,Rg5,a4,h4,Qe2,h3,e4,hxg2,Kf2,Rf5+,Ke3,Rf4,Qxg2,d4+,Kd2,b5,axb5,Rxa1', 'Qxg6+,Qg7,Qxg7+,Kxg7,Rxa1', 'https://lichess.org/training/ZpQ5k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZPQ7u', 'Rapid', 'johnkoutsou', 1612, 'kronox777', 1803, 'e4,c5,Nc3,b6,Bc4,Bb7,d3,e6,Bf4,Nc6,Nf3,Na5,Nd2,a6,a4,h6,O-O,d6,Qe2,e5,Bg3,Be7,Nd5,Bg5,Nf3,Nxc4,dxc4,Bxd5,cxd5,Be7,b3,h5,h3,h4,Bh2,g5,c3,Qd7,g4,hxg3,fxg3,Qxh3,Qg2,g4,Qxh3,Rxh3,Kg2,O-O-O,b4,c4,Nd2,Nf6,Rfe1,Rdh8,Rh1,Kb7,Rae1,b5,axb5,axb5,Ref1,R8h7,Re1,Nd7,Nb1,Bg5,Na3,Kb6,Ref1,Bd2,Nb1,Bg5,Na3,f6,Nb1,Rh8,Rf2,Ra8,Bg1,Rxh1,Kxh1,Ra1', 'Ra2+,Kb7,Rxa1', 'https://lichess.org/training/ZPQ7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZPQuB', 'Rapid', 'kotbert1988', 1753, 'RonjaS', 2290, 'c4,Nf6,Nc3,c5,d4,cxd4,Qxd4,Nc6,Qd3,e6,a3,b6,e4,Bb7,Nf3,d6,Be2,Be7,O-O,O-O,b4,Rc8,Bb2,a6,Rfd1,Qc7,Rac1,Rfd8,Qc2,Qb8,Qb3,Qa8,Nd5,exd5,exd5,Nb8,Qc3,Nbd7,Bd3,Bf8,Ng5,Bxd5,Bxh7+,Nxh7,Rxd5,Qxd5,Nxh7,Kxh7', 'Qh3+,Kg8,cxd5', 'https://lichess.org/training/ZPQuB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zPRHH', 'Rapid', 'pavevel', 1888, 'dodo-152', 1756, 'e4,e5,Nc3,d6,Bc4,Nf6,d3,Be7,f4,exf4,Bxf4,O-O,Nf3,c6,Bb3,Bg4,O-O,Nh5,Be3,Kh8,Qe1,Bxf3,Rxf3,Nf6,Qg3,Nbd7,Bf4,Nh5,Qh3,Nxf4,Rxf4,Ne5,d4,Qb6,Ne2,Ng6,Rxf7,Rxf7,Bxf7,Nf8,Kh1,Qxb2,Qc3,Qb6,Nf4,Bf6,e5,dxe5,dxe5,Bg5,Nh3,Be7,Rf1,Nd7,Nf4,Qb5', 'Ng6+,hxg6,Qh3+,Bh4,Qxh4#', 'https://lichess.org/training/zPRHH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZPRXM', 'Blitz', 'E4C5Resign', 1981, 'Portischead', 2039, 'e4,c6,d4,d5,e5,Bf5,g4,Bd7,Bd3,e6,Ne2,c5,c3,Nc6,a3,Qb6,Bc2,Nge7,b4,cxd4,cxd4,Rc8,Be3,a5,bxa5,Nxa5,Nbc3,Nc4,O-O,Ng6,a4,Nh4,Rb1,Qc7,Bb3,Be7,Bxc4,dxc4,d5,exd5,Nxd5,Qxe5,Bf4,Nf3+,Kh1,Qe6,Nc7+,Rxc7,Bxc7,Qxg4,Rxb7,O-O,Bg3,Bc6,Rxe7,Ng5+,f3', 'Bxf3+,Rxf3,Qxf3+,Kg1,Nh3#', 'https://lichess.org/training/ZPRXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZPsml', 'Rapid', 'Ssmile', 1722, 'asas11', 1722, 'd4,d5,c4,dxc4,Nc3,g6,Bg5,Nf6,Bxf6,exf6,e3,Bg7,Bxc4,O-O,Nf3,Nc6,h4,Bg4,Qc2,Bxf3,gxf3,a6,h5,Qe7,Ne2,f5,hxg6,hxg6,O-O-O,b5,Bd5,Nb4,Qb3,c6,Rh3,cxd5,Rdh1,Rac8+,Kb1,a5,a4,Rc2,Nc3,f4,Nxd5,Nxd5,Qxc2,fxe3,fxe3,Nxe3,Qh2,Qf6', 'Rh8+,Bxh8,Qh7#', 'https://lichess.org/training/ZPsml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZPu99', 'Rapid', 'DivadLank', 1622, 'Mo2016', 1694, 'e4,e5,f4,d5,exd5,Qxd5,Nc3,Qd4,Nf3,Qxf4,Bc4,Qxc4,d3,Qc5,Qe2,Nc6,Ne4,Qd5,O-O,Bc5+,d4,Bxd4+,Nxd4,Nxd4,Qf2,Qxe4,Qxf7+,Kd8,Bg5+,Nf6,Bxf6+,gxf6,Qxf6+,Kd7,Qg7+,Kc6,Rf6+,Kb5,a4+,Ka5,Qxc7+,b6,Qc3+,Ka6,Qc4+,Kb7', 'Rf7+,Bd7,Rxd7+,Kb8,Qc7#', 'https://lichess.org/training/ZPu99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zPW52', 'Blitz', 'Ruslan_Dzhumabaev', 2293, 'FM Reynold9402', 2341, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,Bg5,c6,Na4,h6,Bh4,Bg4', 'Bxf6,Bxd1,Bxd8', 'https://lichess.org/training/zPW52');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zpyul', 'Blitz', 'chessbulletN', 1717, 'mellamoluis', 1687, 'd4,g6,Bf4,Bg7,e3,d6,c3,Nf6,Nf3,O-O,Be2,Re8,O-O,b6,Nbd2,Bb7,Qc2,Nbd7,Rfd1,e5,dxe5,dxe5,Bg5,Qe7,Ne4', 'Bxe4,Qxe4,Nxe4,Bxe7,Rxe7', 'https://lichess.org/training/Zpyul');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zpZFE', 'Blitz', 'Borismann2005', 2086, 'sikbeni', 2103, 'e4,c5,Nc3,Nc6,g3,e5,Bg2,d6,Nge2,Nf6,O-O,Be7,h3,Be6,d3,Nd4,f4,exf4,Nxf4,Bd7,Nfd5,Nxd5,Nxd5,O-O,c3,Ne6,Be3,Nc7,c4,Nxd5,exd5,Bf6,Qd2,Re8,Rae1,Qc8,Kh2,Qd8,Bf4,Rxe1,Rxe1,Qc7,b3,Re8,Rxe8+,Bxe8,Qe3,Kf8,Qe4,g6', 'Bh6+,Bg7,Bxg7+,Kxg7,Qxe8', 'https://lichess.org/training/zpZFE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZpzFp', 'Rapid', 'legendaryfatguy', 2027, 'rogernios1920', 2091, 'e4,e6,d3,d5,Nd2,Nf6,g3,c5,Bg2,d4,f4,Nc6,Ngf3,Rb8,O-O,Be7,a4,h5,e5,Nd5,Ne4,h4,Nxh4,Bxh4,Nd6+,Kf8,gxh4,Qxh4,h3,Nce7,f5,exf5,Bxd5,Nxd5,Qf3,Qxh3,Qxh3,Rxh3,Kg2,Ne3+,Bxe3,Rxe3,Rh1,Kg8,Rh4,Re2+,Kf3,Rxe5,Rah1,g6,Rh8+,Kg7,Ne8+,Rxe8,Rxe8,Be6,Rxb8,Bd5+,Kf4,Bxh1,c3,Kf6,Rc8,g5+,Kg3,f4+,Kh2,dxc3,bxc3,Bc6,d4,cxd4,cxd4,Kf5,Rg8,g4,Kg1,f3,Rg7,f6,Kf2,Kf4,a5,f5,Rg6,Bd5,Rg7,Ke4,Rg5,Kf4,Rg7,Ke4,Rg5,Be6,Rg6,Kd5,Ke3,f2,Kxf2,f4,Rf6,f3,Ke3,b5,axb6,axb6,Rg6,b5,Rg5+,Kc6,Rc5+,Kb6,Rg5,b4', 'Rg6,Ka5,Rxe6', 'https://lichess.org/training/ZpzFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZPZJD', 'Blitz', 'AndreySE', 1842, 'FM Charilaos2', 2213, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,O-O,Qd2,c5,d5,e6,Nf3,exd5,cxd5,d6,Bh6,a6,Bxg7,Kxg7,a4,Bg4,e3,Bxf3,gxf3,Nbd7,f4,b5,axb5,axb5,Rxa8,Qxa8,Bxb5,Qa1+,Nd1,Ne4,Qe2,Ndf6,h4,Rb8,O-O,Nxd5,Bc6,Ndf6,Qd3,c4,Qd4,d5,Nc3,Nxc3,bxc3,Rb1,Rxb1,Qxb1+,Kg2,Qd3,Bxd5', 'Qxd4,cxd4,Nxd5', 'https://lichess.org/training/ZPZJD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZpZLW', 'Classical', 'fenix322', 1620, 'PeraKojot85', 1628, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,h3,Bb4,Bd2,Ne7,Bd3,O-O,f3,c5,g4,Bxd3,cxd3,cxd4,Nce2,Nbc6,Qa4,Bxd2+,Kxd2,a6,Qa3,b5,b3,b4,Qb2,Qb6,f4,a5,Nf3,f5,g5,Ng6,h4,a4,h5,a3,Qc2,Nce7,hxg6,Rac8,gxh7+,Kh8,Qd1,g6,Nexd4,Rc3,Ke2,Rfc8,Qd2,Nc6,Nc2,d4,Rac1,Rd8,Rh6,Kg7,Nh4,Nxe5,fxe5,Qc5,Nxg6,Qd5,Rg1,Rh8,Nxh8,Kxh8,g6,Qxe5+,Kd1,Qg7,Rh4,e5,Nxb4,f4,Re1,Qxg6,Rxe5,f3,Re8+,Qxe8,Rxd4,Rc8,Qf2,Qh5,Rf4', 'Qh1+,Qe1,Rc1+,Kxc1,Qxe1+', 'https://lichess.org/training/ZpZLW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zpZuS', 'Blitz', 'alexbezerra2400', 2330, 'nikonoel', 2196, 'e4,e5,Bc4,Nf6,d3,Nc6,Nc3,Na5,Bb3,Nxb3,axb3,Bb4,Ne2,d5,exd5,Nxd5,O-O,O-O,Nxd5,Qxd5,Ra4,a5,c3,Bd6,Rh4,b5,Ng3,Bb7,Ne4,f5,c4,Qc6,Qh5,fxe4,Qxh7+,Kf7,Qf5+,Ke7,Bg5+,Ke8', 'Qe6+,Be7,Qxe7#', 'https://lichess.org/training/zpZuS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zpzx7', 'Blitz', 'jaafar_chess', 2081, 'Jmatheuzin', 2083, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,Ne7,Nf3,Nf5,Be5,f6,Bf4,Bxf4,exf4,O-O,c3,Nc6,Bd3,e5,fxe5,fxe5,dxe5,Qe7,O-O,Nxe5,Nxe5,Qxe5,Re1,Qf6,Nd2,Nh4,Qh5', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/Zpzx7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQ0Yj', 'Blitz', 'Kesata', 1777, 'Scozzesi', 1959, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qh4,Qd3,Nf6,Nb5,Bc5,Nxc7+,Kd8,g3,Qg4,Nxa8,Nxe4,Be3,Nb4,Qc4,Bxe3,fxe3,Qf3,Nd2', 'Qf2+,Kd1,Qxd2#', 'https://lichess.org/training/ZQ0Yj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zq2dr', 'Blitz', 'MAGUDS', 2062, 'ynfi', 2035, 'e4,e5,Bc4,Nc6,Nc3,Be7,Nf3,Nf6,d4,d6,Bg5,O-O,dxe5,dxe5,Qe2,Nd4,Nxd4,exd4,O-O-O,c5,h4,a6,e5,Nd7,Bxe7,Qxe7,Nd5,Qd8,Bd3,Nb8,Qe4,g6,h5,Bf5,hxg6', 'Bxe4,Nf6+,Qxf6,gxh7+,Kh8', 'https://lichess.org/training/zq2dr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zq3bj', 'Rapid', 'maggio71', 1773, 'maskz', 1824, 'e4,e5,Nf3,Nc6,Bc4,f5,exf5,Nf6,d3,h6,O-O,d5,Bb5,Bd7,Re1,Bd6,Bxc6,Bxc6,Nxe5,O-O,d4,Ne4,f3,Nf6,c3,Qc8,Qc2,Bxe5,dxe5,Nh5,f6,Qe6,fxg7,Nxg7,Qd2,Nf5,Qf2,Qg6,Nd2,Rad8,e6,Rde8,Nf1,Rxe6,Ne3,Ref6,Ng4,R6f7,Ne5,Qg7,Nxf7,Rxf7,Bd2,d4,cxd4,Nxd4,Bc3,Rxf3,Qxd4', 'Rf1+,Kxf1,Qxg2#', 'https://lichess.org/training/Zq3bj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQ3tw', 'Classical', 'Chelyab1nsk', 1906, 'jejakbkd', 1777, 'd4,d5,Bg5,Nf6,e3,e6,c3,Be7,Bb5+,Bd7,Bd3,O-O,h4,h6,Bf4,c5,dxc5,Bxc5,g4,Nxg4,Qxg4,e5,Qg3,exf4,Qxf4,Nc6,Nf3,Qb8,Qxb8,Raxb8,Rg1,f5,Nbd2,f4,e4,dxe4,Nxe4,Rbe8,O-O-O,Bb6,Rg2,Bh3,Rh2,Bg4,Ned2,Ne5,Be4,Nxf3,Bxf3,Bxf3,Nxf3,Rd8,Rg1,Rfe8,Rhg2,Rd7,Nh2,Re2,Ng4,Rdd2,Nxh6+,Kh7,Nf7', 'Rc2+,Kb1,Rxb2+', 'https://lichess.org/training/ZQ3tw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zq4ZJ', 'Rapid', 'GustavoGonzalez', 1646, 'pawelsz123', 1661, 'e4,e6,d3,d5,Nd2,c5,g3,d4,Bg2,e5,Ne2,Nf6,O-O,Be7,f4,Nc6,fxe5,Nxe5,Nf3,Nxf3+,Rxf3,Bg4,Rf1,Qc7,Bf4,Bd6,Qe1,O-O-O,c3,dxc3,bxc3,Bxe2,Qxe2,Bxf4,Rxf4,Qe5,Qd2,Rhe8,Rb1,g6,Rbf1,Re6,Bh3,Nxe4,Bxe6+,Qxe6,Rxe4', 'Qxe4,dxe4,Rxd2', 'https://lichess.org/training/Zq4ZJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zq50S', 'Rapid', 'kusey01', 1689, 'Alex6662', 1664, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,d6,O-O,Be7,d4,exd4,Nxd4,O-O,Nxc6,bxc6,Be3,Bb7,f3,d5,exd5,cxd5,Be2,c5,Bf4,d4,Ne4,Nxe4,fxe4,Bxe4,Bc4,Bd5,Bd3,Bf6,b3,g6,Bh6,Bg7,Qd2,Re8,Bg5,Qd7,a4,a5,Bb5,Bc6,Rad1,Bxb5,axb5,f6,Bxf6,Bxf6,Rxf6,Qxb5,Qg5,Qe2,Qd5+,Kg7,Qf7+,Kh8,Rff1,Qe7,Qd5,Rad8,Qc4,Qe6', 'Rf8+,Kg7,Qxe6,Rxe6,Rxd8', 'https://lichess.org/training/Zq50S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQ6PO', 'Rapid', 'Dim_Mid', 1717, 'WhistlinBupkisMcGee', 1637, 'e4,d5,e5,d4,Bc4,e6,Nf3,f6,O-O,Nc6,exf6,Nxf6,Bb5,Bd7,d3,Bd6,Bxc6,Bxc6,Bg5,Qe7,Nxd4,Bd7,h3,O-O-O,Nc3,h6,Bxf6,gxf6,Ndb5,c6,Nxd6+,Qxd6,Ne4,Qe7,a4,c5,c4,Bc6,a5,Bxe4,Qb3,Rxd3,Qb5,Rg8,f3,Rxf3,Rxf3,Bxf3,g4,e5,Rf1,e4,a6,b6,Qc6+,Qc7', 'Qe6+,Qd7,Qxg8+', 'https://lichess.org/training/zQ6PO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQ6YA', 'Rapid', 'rkhm0411', 1761, 'Enigma-8', 1673, 'c4,g6,d4,Bg7,e4,e6,Nc3,d6,Nf3,h6,Qa4+,Nd7,e5,b6,exd6,cxd6,Be2,Bb7,O-O,Nf6,Re1,O-O,Qc2,Ng4,Bf4,Qe7,d5,e5,Bd2,a6,b3,Bc8,h3,Ngf6,Qc1,h5,Bh6,Kh7,Bxg7,Kxg7,Ng5,Rh8,Nce4,Nxe4,Nxe4,Nf6,Nxf6,Qxf6,Bf3,Bf5,Be4,Bd7,Re3,h4,Rf3,Qe7,Qc2,Qg5,Kh1,a5,Rg1,Rh6,g3,hxg3,Rfxg3,Qf6,Kg2,Bxh3+', 'Rxh3,Rxh3,Kxh3,Rh8+,Kg2', 'https://lichess.org/training/zQ6YA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQ77r', 'Rapid', 'ForDataAnalyse', 1893, 'Tetragono', 1875, 'd4,d6,c4,e6,Nc3,Ne7,g3,Nd7,Bg2,h6,Nf3,g6,O-O,Bg7,e4,O-O,h4,b6,e5,d5,cxd5,Nxd5,Nxd5,exd5,h5,Bb7,b3,Re8,hxg6,fxg6,Nh4,Re6,Bh3,Nf8,Bxe6+,Nxe6,Nxg6,Qe8,Nf4,c5,Nxe6,Qxe6,Bb2,c4,b4,Rc8,Rc1,a6,Kg2,Rf8,Bc3,Rf5,Qg4', 'Rxf2+,Kh3,Rh2+,Kxh2,Qxg4', 'https://lichess.org/training/ZQ77r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQ7bX', 'Blitz', 'Nighthawking', 1813, 'Gambitogambito', 1897, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Nf6,e5,Bb4+,Kf1,d5,exf6,dxc4,Qxd8+,Kxd8,Nf3,g6,Ng5,Ke8,Nc3,Bxc3,Bxc3,h6,Re1+,Kf8', 'Bb4+,c5,Bxc5+,Kg8,Re8#', 'https://lichess.org/training/zQ7bX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQ98W', 'Bullet', 'agsone', 2097, 'ninjabongo', 1663, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,b6,e4,Bxc3+,bxc3,O-O,Bd3,d6,Ne2,Qe7,O-O,Nbd7,f4,Bb7,e5,dxe5,fxe5,Nxe5,dxe5,Qc5+,Kh1,Qxe5,Bf4,Qh5,Ng3,Qh4,Qe2,Ng4,h3', 'Qxh3+,Kg1,Qh2#', 'https://lichess.org/training/zQ98W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQAqm', 'Blitz', 'coronapasser', 1849, 'Yool_McBaslaq', 1844, 'd4,e5,dxe5,d6,Bf4,f6,exd6,cxd6,e4,Be6,Nc3,Nc6,Qd2,Qb6,O-O-O,Rc8,Nb5,g5,Nxd6+,Bxd6,Bxd6,Kf7,Be2,Nge7,Bh5+,Kg7,Ba3,Bxa2,Ne2,Bf7,Bg4,Rhd8,Qe1,Rxd1+,Qxd1,Rd8,Qe1,Ng6,Qc3,Nge5,Bf5,Nd4,Nxd4,Qxd4,Qh3', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/zQAqm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQarP', 'Rapid', 'Yersinia_Pestis', 1662, 'passion124', 1647, 'd4,d5,Nf3,Nf6,g3,Nc6,Bg2,e6,O-O,Bd6,c4,dxc4,e4,Nxe4,Re1,Nf6,d5,Ne7,dxe6,Bxe6,Ng5,Bf5,Nc3,O-O,Nge4,Nxe4,Nxe4,Bb4,Bd2,Bxe4,Bxb4,Qxd1,Raxd1,Bxg2,Bxe7,Bf3,Rd4,Rfe8,Rxc4,c6,Rcc1,Bd5,a3,Rac8,h4,Bb3,Bb4,Rxe1+,Rxe1,h6,Re7,Rb8,Bd6,Rd8,Bc5,Rb8,Bxa7,Kf8,Bc5,b6', 'Rb7+,Ke8,Rxb8+', 'https://lichess.org/training/ZQarP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQB0f', 'Classical', 'Crazy-Genius', 2091, 'zaza-beqauri', 1859, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,Bd6,Nc3,exd4,Nxd4,Ne5,Bb3,O-O,Nf5,Bb4,Bg5,h6,Bh4,d6,O-O,Bxc3,bxc3,g5', 'Nxh6+,Kg7,Bxg5', 'https://lichess.org/training/ZQB0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQcLP', 'Rapid', 'GalavizM', 1760, 'Jevalverdez', 1733, 'd4,Nf6,e3,g6,c4,Bg7,Nc3,e6,Nf3,d5,cxd5,exd5,Bd3,Nc6,O-O,O-O,Re1,Be6,b3,Qd7,Bb2,Nb4,Ne5,Qe7,Ba3,a5,Rc1,Qd8,Bb1,Re8,Na4,Na6,Nc5,Nxc5,Bxc5,Nd7,Nxd7,Qxd7,h3,Bf8,Qf3,Bxc5,Rxc5,a4,b4,b6,Rc3,Qd6,a3,f5,Bd3,Bd7,Rec1,Rec8,h4,Ra7,h5,Be8,Qh3,Qf6,g4,Bd7,gxf5,Bxf5,Bxf5,Qxf5,Qxf5,gxf5,Rc6,Kf7,Rxb6', 'Rg8+,Rg6,hxg6', 'https://lichess.org/training/ZQcLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zqD1w', 'Rapid', 'jck_jck', 2049, 'nik12345kkk', 2126, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Bc4,e6,Nxc3,Bb4,O-O,Nge7,Qe2,O-O,Bg5,Bxc3,bxc3,Qc7,Bb3,d5,exd5,Nxd5,Rad1,Na5,Bxd5,exd5,Rxd5,b6,Rfd1,Be6,Rd6,Qxc3,h4,Nb7,Rxe6,fxe6,Qxe6+,Kh8,Ne5,Qc2,Rd2,Qf5,Qe7,Nc5,g4,Qb1+,Kh2,Ne4,Nf7+,Rxf7', 'Rd8+,Rxd8,Qxd8+,Rf8,Qxf8#', 'https://lichess.org/training/zqD1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQDO5', 'Blitz', 'Losyash_24', 1698, 'manzanapodrida22', 1716, 'c4,e5,Nc3,Nf6,e4,Bc5,Nf3,Nc6,d3,d6,Be2,Bg4,Be3,Qd7,Bxc5,dxc5,O-O,O-O-O,Qc2,Nd4,Nxd4,cxd4,Nd5,Bxe2,Qxe2,Nxd5,cxd5,h5,g3,Qh3,Rfc1,Rdg8,b4,g5,Qc2,Qd7,a4,h4,b5,hxg3,fxg3,f5,exf5,Rf8,Rab1,Rxf5,a5,Rh7,Rb2,Qxd5,b6,axb6,axb6,c6,Ra2,Kb8,Qa4,Kc8,Qa8+,Kd7,Ra7,Kd6,Qd8+,Ke6,Qg8+,Rhf7,Rxb7,Qf3,Rxf7,Rxf7,Qc8+,Kd6,Qb8+,Ke6,Qe8+,Kf6,Qh8+,Kf5,b7,Qe3+,Kg2,Qd2+,Kh3', 'g4+,Kh4,Qxh2#', 'https://lichess.org/training/ZQDO5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zqESj', 'Blitz', 'fullhd', 1937, 'Flipper1x1', 1967, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Nge7,a3,Ng6,b4,Be7,Bd3,O-O,h4,Re8,h5,Nf8,Nbd2,a6,Nb3,b6,Bb2,Bb7,Rc1,Rc8,Qd2,Qd7,Qf4,Bd8,Qg3,Na7,Ke2,Nb5,Rxc8,Bxc8,Bc1,a5,Ng5,axb4,Bb1,Ba6,Ke1,Qc7,Nxh7,Nxh7,Bd2,Qe7,Qd3,Nf8,h6,g6,h7+,Kh8,Bh6,Nxa3', 'Bg7+,Kxg7,h8=Q#', 'https://lichess.org/training/zqESj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZqFpt', 'Rapid', 'CurtisLoew', 1652, 'klamka9797', 1723, 'e4,c5,Bc4,e6,d3,b6,Be3,Bb7,f4,d5,Bb5+,Nd7,exd5,Bxd5,c4,Bxg2,Bc6,Rb8,Bxg2,Ngf6,Nf3,Ng4,Qe2,Qf6,h3', 'Nxe3,Qxe3,Qxb2,O-O,Qxa1', 'https://lichess.org/training/ZqFpt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zqg1p', 'Blitz', 'PhoenixRebornAshes', 2575, 'GM Chesstoday', 2707, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,a6,Qd2,Nbd7,h4,b5,cxb5,axb5,Bxb5,c5,Nge2,Ba6,dxc5,Bxb5,Nxb5,dxc5,O-O,Qb8,Nbc3,Rc8,b3,c4,bxc4,Rxc4,Rab1,Qf8,Rfc1,e6,Nb5,Ne5,Bd4,Rxc1+,Rxc1,Nh5,Bc5,Qb8,Nec3,Nxf3+,gxf3,Bh6,Qe1,Bxc1,Qxc1,Qg3+,Kf1,Nf4,Qc2,Qxf3+,Qf2,Qh3+,Kg1,Qg4+,Kh2,Nd3,Qe3,Qxh4+,Kg1,Nf4,Bd6,Qg4+,Kf1,Nh5,a4,Rd8,a5,Ra8,Bc7,e5,Nd5,Nf4', 'Nf6+,Kg7,Nxg4', 'https://lichess.org/training/zqg1p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zqiDq', 'Rapid', 'vvk2771994', 1801, 'Jhon-Titor', 1793, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,a6,a3,d6,d3,Be6,Ba2,Nf6,Be3,Bxa2,Rxa2,Nd4,b4,Ba7,O-O,Qd7,Bg5,Qe6,Ra1,h6,Bh4,g5,Bg3,Nh5,Nxe5,Nxg3,Nxf7,Qxf7,fxg3,Qg6,Kh1,O-O-O,Qg4+,Kb8,Rac1,c6,Ne2,Nxe2,Qxe2,Rhf8,c3,d5,e5,Qe6,d4,g4,Rf4,Rxf4,gxf4,Rf8,Rf1,Bb6,g3,Bd8,Qd3,Qf5,Qxf5,Rxf5,Kg2,h5,h4,b5,Re1,Kc7,Kf2,Kd7,Ra1,a5,Ke3,Ke6,Kd3,Rf7,Ke3,Ra7,Kd3,axb4,cxb4,Be7,Kc3,Kf5,Kb3,Ke4,Rc1,Rc7,Rd1,Ra7,Rc1,Ra6,Rd1,Kf5,Re1,Ke6,Rf1,Bf8,f5+,Kf7,f6,Bh6,Re1,Bd2', 'e6+,Kxf6,e7,Ra8,e8=Q,Rxe8,Rxe8', 'https://lichess.org/training/zqiDq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQiq0', 'Blitz', 'We15', 1910, 'Gracch-Urrunarrh', 1843, 'e4,e5,Nc3,Nc6,Nf3,Nf6,Bc4,Bc5,d3,d6,a3,a6,Bg5,h6,Bh4,Qe7,Nd5,Qd8,Qd2,Be6,h3,Bxd5,Bxd5,g5,Bxc6+,bxc6,Bg3,Nh5,Bh2,O-O,O-O,f5,exf5,Rxf5,c3,Qf6,Ne1,Nf4,Bxf4,gxf4,Kh2,Kh8,f3,Rg8,b4,Ba7,Nc2,Qg5,d4,Qg3+,Kh1,Rh5,Rf2,Rgg5,Raf1,Rh4,Ne1,exd4,cxd4', 'Rxh3+,gxh3,Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/zQiq0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQjeg', 'Rapid', 'coryhuffer', 1600, 'KutuzovGambit', 1609, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,Nxd4,Qxd4,Nf6,Bb5,a6,Ba4,b5,Bb3,d6,Bd5,e5,Bc6+,Bd7,Bxd7+,Qxd7,Qd1,Nxe4', 'Qd5,Rc8,Qxe4', 'https://lichess.org/training/ZQjeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZqJpS', 'Rapid', 'wk2407', 1660, 'Paweljayu', 1647, 'd4,g6,c4,Bg7,Nf3,d6,Nc3,Bf5,e3,e6,Bd3,Ne7,O-O,O-O,b3,a6,Bb2,c5,d5,exd5,Nxd5', 'Bxb2,Nxe7+,Qxe7', 'https://lichess.org/training/ZqJpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zqjzB', 'Classical', 'Danzawhite', 2017, 'Psharmxyz', 2011, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,O-O,d5,Re1,Nc6,d3,dxc4,Rxe4,Bd6,d4,f5,Nxe5,Bxe5,Rxe5+,Nxe5,Qe2,Qxd4,c3,Qd3,Qxe5+,Kf7,Qxc7+,Kf6,Nd2,Re8,Nf1,Re1', 'Bg5+,Kg6,Rxe1', 'https://lichess.org/training/zqjzB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQKi0', 'Rapid', 'shardulme', 1693, 'Heliya', 1721, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c4,c6,Nc3,Bd6,c5,Bc7,Bg5,Ba5,Be2,Bxc3+,bxc3,O-O,O-O,Re8,Ne5,h6,Bh4,Nbd7,Nxd7,Bxd7,Re1,Bf5,Bd3', 'Rxe1+,Qxe1,Bxd3', 'https://lichess.org/training/zQKi0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQkih', 'Blitz', 'Gilgamesh1412', 1660, 'KendoFuji', 1659, 'd4,e6,Bf4,d5,Nf3,c5,c3,Nc6,e3,c4,Nbd2,b5,a3,a5,Be2,a4,Ne5,Nxe5,Bxe5,Ne7,Nf3,Ng6,Bg3,Bd6,Ne5,Bxe5,Bxe5,Nxe5,dxe5,f6,f4,fxe5,fxe5,O-O,Bf3,Qg5,Qd4,Bd7,O-O,Rf5,e4,Rxe5,exd5,Rd8,Rae1,Rxe1,Rxe1,Bc6,Rxe6,Bxd5,Bxd5,Qxd5,Qxd5,Rxd5,Re2,Rf5,h3,Kf7,Kh2,h5,h4,g5,hxg5,Rxg5,Kh3,Kf6,g3,Rf5,Kh4,Kg6,Re6+,Kf7,Rh6,Rf2,Rxh5,Rxb2,Kh3,Rb3,Kh4,Rxa3,Rxb5,Rxc3,Rb4,a3,Ra4,Rb3,Rxc4,a2,Ra4,Rb2,Kh3,Ke6,g4,Kd5,g5,Kc5,g6,Rb3+,Kh4', 'Rb4+,Rxb4,Kxb4,g7,a1=Q,g8=Q,Qh1+,Kg3,Qg1+,Kf4,Qxg8', 'https://lichess.org/training/ZQkih');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQKys', 'Rapid', 'majid_alsalhi', 2043, 'marmutop', 2032, 'e4,c5,Nf3,a6,c3,d5,exd5,Qxd5,d4,e6,Be3,Nd7,c4,Qc6,Nc3,Ngf6,Bd3,cxd4,Nxd4,Qc7,O-O,Be7,Qf3,Ne5,Qg3,Nh5,Qh3,Nxd3,Qxh5,Nxb2,Ne4,Nxc4,Rac1,O-O,a4,Qe5,Qxe5,Nxe5,Rc7,Bd8,Rc5,Nd7,Rc2,b6,Rfc1,Bb7,Nd6,Bd5,Nc6,Bc7', 'Ne7+,Kh8,Rxc7', 'https://lichess.org/training/zQKys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZqmS1', 'Rapid', 'ChunkyMilk', 2083, 'elchicacaelcachi', 1987, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bc4,Qc7,Bb3,a6,Be3,e5,Ne2,Nxe4,Nbc3,Nxc3,Nxc3,Be6,f4,Nd7,O-O,Nf6,fxe5,dxe5,Nd5,Nxd5,Bxd5,Bxd5,Qxd5,Rd8,Qe4,Bc5,Rae1,O-O,Kh1,Bxe3,Qxe3,Qxc2,Qxe5,Rd2,Qf4,Rxg2', 'Qxf7+,Rxf7,Re8+,Rf8,Rexf8#', 'https://lichess.org/training/ZqmS1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQNl4', 'Rapid', 'r0b0c0p', 2094, 'miloszb', 2068, 'd4,d5,Nf3,e6,Bf4,c5,e3,Nc6,c3,Nf6,Nbd2,Be7,Bd3,O-O,O-O,b6,Ne5,Bb7,Ndf3,Rc8,Nxc6,Bxc6,Ne5,Bb7,Qf3,cxd4,exd4,Ne4,Rfe1,Ng5,Bxg5,Bxg5,Qh5,h6,Qe2,Bf6,Rac1,a5,Qg4,Bxe5,Rxe5,Qf6,Rce1,g6,R1e3,Kg7,Rf3,Qe7,h4,Rg8,h5,g5,Rfe3,Rcf8,f4,Bc8,fxg5,hxg5,h6+,Kh8,Rxd5', 'exd5,Rxe7,Bxg4', 'https://lichess.org/training/zQNl4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zqo8t', 'Blitz', 'Mickey_Blue_Eyes', 2422, 'FM RafaSaladen', 2279, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,Nc6,Qd2,O-O,Bc4,Bd7,Bb3,Rb8,O-O-O,Na5,Kb1,b5,Ka1,Nc4,Bxc4,bxc4,Rb1,e5,Nde2,Be6,Rhd1,Ne8,Bxa7,Ra8,Bc5,Ra6,Nb5,Qa8,Ba3,d5,exd5,e4,dxe6,Rxa3,Nxa3,Qxa3,c3,Qa7,Qd7,Nc7,e7', 'Qxa2+,Kxa2,Ra8+,Qa4,Rxa4#', 'https://lichess.org/training/zqo8t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zqoBO', 'Blitz', 'Butters00000', 1932, 'Balamut4ik', 2176, 'e4,e5,Nf3,Nc6,Bb5,f5,Bxc6,dxc6,d3,fxe4,dxe4,Bd6,Nc3,Nf6,Bg5,O-O,Bxf6,Qxf6,Qe2,Bg4,O-O-O,Bxf3,gxf3,Qxf3,Qxf3,Rxf3,Rd2,Raf8,Nd1,Bc5,Rf1,h6,c3,g5,a4,a6,b4,Bd6,Nb2,Rxc3+,Kd1,Rf4,Re2,Bxb4,Rd2,Rxe4,Rd8+,Kg7,Rd7+,Kg6,Rxc7,Rd4+,Ke2,Rc2+,Kf3,Rxb2,Rxb7,c5,Rb6+,Kh5,Rxa6,Rf4+,Kg2,Rg4+,Kh1,e4,Re6,c4,Rb6,c3,a5,e3,a6,e2,Re1,c2,a7,Bxe1,a8=Q,c1=Q', 'Qe8+,Kh4,Rxh6#', 'https://lichess.org/training/zqoBO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQOP0', 'Classical', 'Julianogama', 1782, 'dsc82', 1743, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d4,Bb4+,Nc3,Ne4,Ne2,Bxc4,a3,Bxc3+,bxc3,Bxe2,Qxe2,Qe7,f3,Nxc3,Qxe7+,Kxe7,Bb2,Na4,Bc1,Re8,Be2,Kd6,Bf4+,Kc6,Rc1+,Kd5,Bxc7,Nc6,Rc4,Rxe2+,Kxe2,Kxc4,Rc1+,Kd5,g4,g5,Bg3,Nxd4+,Kf1,Nxf3,Rd1+,Ke4,Kf2,Nc3,Rd7,Ne5,Rxb7,Nxg4+,Ke1,Rf8,Rxa7,Nb5,Re7+,Kf3,a4,Ra8,Rxf7+,Kg2,axb5,h5,Bc7,Ra1+,Ke2,Rb1,b6,Nxh2', 'Rf2+,Kh3,Rxh2+', 'https://lichess.org/training/ZQOP0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zqPEO', 'Blitz', 'CrazyHorse2017', 1576, 'brummer44', 1608, 'e4,c5,Nf3,d6,g3,Nf6,d3,Nc6,Bg2,Bg4,Nc3,e6,b3,Be7,Bb2,O-O,Qe2,Ne5,h3,Bh5,g4,Bg6,Nxe5,dxe5,O-O-O,Qa5,Kb1,b5,h4,h6,g5,hxg5,hxg5,Nh7,Rh2,Bxg5,Bf3,Nf6,Rdh1,Bh6,Qe1,c4,dxc4,bxc4,Bc1,Kh7,Bxh6,gxh6,Rxh6+,Kg7,Qg1,Qxc3,R6h2,Qxf3,Rh3,Qxe4,Qd1,cxb3,axb3,Rab8,Kb2,a5,Qd2,a4', 'Qh6+,Kg8,Qh8#', 'https://lichess.org/training/zqPEO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZqPLl', 'Blitz', 'hivalir', 2397, 'NM janisdaudz', 2129, 'Nf3,b6,g4,d5,g5,c5,d4,e6,Nc3,Nc6,e4,dxe4,Bb5,Bd7,d5,exd5,Qxd5,exf3,Bxc6,Ne7', 'Bxd7+,Qxd7,Qxa8+', 'https://lichess.org/training/ZqPLl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZqrfV', 'Rapid', 'cryod', 1620, 'Checkers21', 1601, 'e4,b6,d3,Bb7,a4,e5,h4,Nc6,Be3,Nf6,g4,Bb4+,c3,Bc5,g5,Bxe3,gxf6,Qxf6,fxe3,O-O,Qg4,d6,h5,h6,Bh3,Bc8,Qg3,Bxh3,Nxh3,Na5,Rf1,Qe6,Nd2,Nb3,Nxb3,Qxb3,Rf2,a5,Rg2,g5,Nxg5,Kh8,Qf3,hxg5,Qf6+,Kh7,Rxg5,Rg8,h6,Rxg5,Qxg5,Rg8,Qf6,Qe6,Qxe6,fxe6,O-O-O,Kxh6,Rh1+,Kg7,Kc2,Kf6,Kb3,Rg3,Re1,Ke7,Kc4,Kd7,b4,Kc6,b5+,Kb7,d4,exd4,exd4,c5,dxc5,bxc5,Rd1,d5+,Kxc5,Rxc3+,Kd6,Ra3,Kxe6,dxe4,Rd4,e3,Rd7+,Kc8,b6,Rxa4,b7+,Kb8,Kd6,Rb4,Kc6,e2', 'Rd8+,Ka7,Ra8#', 'https://lichess.org/training/ZqrfV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZqRjS', 'Rapid', 'faridch', 1914, 'amin-ngeblues', 1649, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,Kf1,d6,d4,Bg5,Nc3,c6,g3,Bh3+,Kf2,fxg3+,hxg3,Bxc1,Rxc1,Bg4,Qd3,Bxf3,Qxf3,Qf6,e5,Qxf3+,Kxf3,d5,Bd3,h6,Rce1,Nd7,e6,fxe6,Rxe6+,Ne7,Rhe1,Rf8+', 'Kg2,O-O-O,Rxe7', 'https://lichess.org/training/ZqRjS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZqsG4', 'Rapid', 'ErFenomeno', 2068, 'Alexplayer26', 2039, 'e4,c5,Nf3,e6,d4,cxd4,Qxd4,a6,c3,Nc6,Qd1,Bc5,Bd3,Nge7,O-O,O-O,Bg5,Qb6,b3,Ng6,Nbd2,d5,exd5,exd5,Bxg6,hxg6,Bh4,Bg4,h3,Be6,Bg3,d4,c4,Bb4,Ne4,Rad8,a3,Bf5,Ned2,Bc3,Ra2,Rfe8,Re1,Qa5,Rxe8+,Rxe8,Bd6,Re6,c5,Nb4', 'Nc4,Nxa2,Nxa5', 'https://lichess.org/training/ZqsG4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zqsIM', 'Rapid', 'chessplayer003', 2042, 'Achensee2', 1653, 'c4,e5,Nc3,d6,e3,f6,d4,Nh6,h3,Be7,Nf3,O-O,d5,c6,e4,cxd5,Bxh6,gxh6,cxd5,Kh8,Qd2,Rg8,Qxh6,Bf8,Qe3,Qe8,g4,Nd7,Bb5,a6,Bxd7,Bxd7,g5,fxg5,Nxg5,Qg6,h4,h6,Nf3,Qg2,O-O-O,Bg4,Nxe5,Bxd1,Nf7+,Kh7,Rxd1,Bg7,Ne2,Rgf8,Rg1,Qh2,f4,Rxf7,f5,Qxh4,Nf4,Qf6,Rg2,Rc7+,Kb1,Rac8,a3,Rc1+,Qxc1,Rxc1+,Kxc1,Qe5,Ne6,Bf6', 'Nf8+,Kh8,Ng6+', 'https://lichess.org/training/zqsIM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZqsOV', 'Rapid', 'ALTAIR784', 1630, 'Weaselslayer', 1850, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd3,d6,c4,Nf6,a3,e5,Nc3,Be6,Be2,Be7,f4,exf4,Bxf4,Ne5,Bxe5,dxe5,Nf3,Qxd3,Bxd3,Bd6,O-O,Rc8,Nb5,Bb8,Rac1,O-O,b3,Nd7,Nc3,Nc5,Bc2,a6,b4,Nd7,Kh1,f5,exf5,Bxf5,Bxf5,Rxf5,c5,Rcf8,Nd5,Kh8,Kg1,Nf6,Nb6,e4,Nh4,Rxf1+,Rxf1,Nd7,Nxd7', 'Bxh2+,Kxh2,Rxf1', 'https://lichess.org/training/ZqsOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zqTbi', 'Classical', 'Libelloy', 1691, 'makusham', 1693, 'e4,d5,exd5,c6,dxc6,Nxc6,Nf3,e5,d3,Bd7,Nc3,f5,Be2,e4,dxe4,fxe4,Nxe4,Bf5,Qxd8+,Rxd8,Nfd2,Nd4,Bd3,Bxe4,Nxe4,Rd7,c3,Nc6,Bb5,Re7,Bxc6+,bxc6,f3,Nf6,Bg5,Re6,Bxf6,gxf6,O-O,f5,Nf2,Bc5,Kh1,f4,Ne4,Be3,Rfd1,Rg6,Rd6,Ke7,Rad1,Rhg8,Rd7+,Ke6,R7d6+,Ke5,Rxg6,hxg6,h3,g5,g4,c5,Kg2,c4,Rd7,Rb8,Re7+,Kd5,Rd7+,Ke5,Re7+,Kd5,Rd7+,Ke6,Rd6+,Ke5,Rd1,Rxb2+,Kh1,Rxa2,Nxg5,Rc2,Ne4,a5,g5,Bf2,g6,Ke6,Ra1,Bg3,Nxg3,fxg3,Rxa5,Kf6,g7,Kxg7,Rg5+,Kf6,Rxg3,Rxc3,Kg2,Rd3,Rg4,c3,Rc4,Rd2+,Kg3,c2,Kf4', 'Rd4+,Rxd4,c1=Q+', 'https://lichess.org/training/zqTbi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQtC1', 'Classical', 'CuratesEgg', 1828, 'hibou128', 1799, 'Nf3,e6,g3,d5,Bg2,c5,O-O,Nc6,d4,Nf6,c4,b6,Bg5,Be7,Nc3,O-O,Ne5,Nxd4,e3,Nf5,Nc6,Qd7,Nxe7+,Qxe7,cxd5,Bb7,e4,Nd4,e5,exd5,Bxd5,Bxd5,exf6,Nf3+', 'Qxf3,Bxf3,fxe7', 'https://lichess.org/training/zQtC1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQtCp', 'Blitz', 'julesverne1828', 1783, 'mek31', 1805, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,e3,a6,Nf3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,Nbd7,Rc1,Rc8,Ne5,c5,Nxd7,Qxd7,dxc5,Rxc5,Bxf6,Bxf6,Ne4', 'Rxc1,Qxc1,Qxd3,Nxf6+,gxf6', 'https://lichess.org/training/ZQtCp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZqtLU', 'Blitz', 'Besnik8', 2215, 'harinasoavina', 2207, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Bd7,Na3,Nge7,Nc2,Nf5,g4,Nfe7,h4,h6,b3,a6,Be3,cxd4,cxd4,O-O-O,Kf1,Kb8,a4,f6,b4,Na7,Qd2,Nec8,Kg2,Be7,Rhb1,g5,h5,f5,gxf5,exf5,Qd3,g4,Nd2,Rdf8,Bf4,Ka8,b5,a5,Nb3,Bg5,Qd2,Be8,Be3,Bxh5,Qxa5,Bxe3,Nxe3,Qxa5,Nxa5,f4,Nxd5,f3+,Kg3,fxe2,b6,Rf3+,Kg2,Rhf8,bxa7,Rxf2+,Kg1,Nxa7,e6,g3,e7,Rc8,Nb6+,Kb8,Nxc8,Kxc8,Nxb7,Kd7,Nc5+,Kxe7,Rb7+,Kd6,Rxa7,Bf3,Ne4+,Bxe4,Ra6+,Ke7,Rxh6,Rg2+,Kh1,e1=Q+,Rxe1', 'Re2+,Kg1,Rxe1#', 'https://lichess.org/training/ZqtLU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQuB7', 'Classical', 'geartwo', 2000, 'Glopper', 1618, 'c4,Nf6,Nc3,e6,g3,d5,d4,dxc4,Nf3,Nc6,Bg2,Bb4,O-O,O-O,a3,Ba5,Qa4,Bb6,Qxc4,Nxd4,Rd1,c5,Bg5,h6,Bf4,Nd5,Nxd4,cxd4,Nxd5,exd5,Bxd5,Qf6,a4,d3,Rxd3,Qxb2,Rad1,Bh3,Bd6,Rfc8,Bxf7+,Kh8,Qh4,Rc1,Qxh3,Rxd1+,Rxd1,Qxe2,Qf1,Qf3,Bd5', 'Bxf2+,Qxf2,Qxd1+', 'https://lichess.org/training/zQuB7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQvug', 'Blitz', 'WFM Pelageya', 2266, 'vertigesdelA', 2118, 'd4,d5,c4,Nf6,cxd5,Bf5,Qa4+,c6,dxc6,Nxc6,e3,a6,Nf3,b5,Qd1,e5,Be2,exd4,exd4,Bb4+,Bd2,O-O,O-O,Nxd4', 'Bxb4,Nxe2+,Qxe2', 'https://lichess.org/training/zQvug');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQVur', 'Classical', 'lu13', 1693, 'HK-51', 1748, 'd4,d5,Nf3,Nc6,e3,a6,a3,b5,Bd3,e6,O-O,Bd6,b3,Nf6,Re1,O-O,Nbd2,Bb7,e4,dxe4,Nxe4,Nb8,c3,Be7,Bb2,Nbd7,Qc2,Nxe4,Bxe4,Bxe4,Qxe4,Nf6,Qd3,h6,Ne5,Qd6,c4,bxc4,bxc4,c5,dxc5,Qxc5,Rab1,Rfd8,Qc3,Rab8,h3,a5,a4,Rd6,Ba3,Qc8,Bxd6,Bxd6,Rxb8,Qxb8,Nf3,Bb4,Rb1,Qf4,Qd4,Qf5,Rc1,Bc5,Qd1,Ne4,Rc2,g5,Nd4,Qf4,Nf3,h5,Qe1,g4,hxg4,hxg4,Re2,gxf3,Rxe4,Qg3,Qf1,fxg2,Qxg2,Bxf2+,Kf1,Qxg2+,Kxg2,Bc5,Re5,Bb4,c5,Kf8,c6,Ke7,Re2,Kd6,Rc2,Kc7,Kf3,f6,Kg4,e5,Kf5,Be7,Ke6,Bb4,Kxf6,e4,Ke6,e3,Kd5', 'Bd2,Rb2,e2,Rxd2,e1=Q', 'https://lichess.org/training/ZQVur');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZQweY', 'Blitz', 'berlincallingme', 1929, 'saman111', 2018, 'Nf3,d5,g3,c5,Bg2,Nc6,O-O,Bf5,d4,e6,c4,Nf6,Nc3,h6,cxd5,Nxd5,e4,Nxc3,bxc3,Bxe4,Qa4,cxd4,Rd1,Bc5,cxd4,Bb6,Ba3,Qf6,Ne5,Bxg2,Kxg2,Rc8,Rac1,Qf5,Nxc6,bxc6,Rxc6,Qd5+,Kg1,Qxc6,Qb4,Bd8,d5,exd5', 'Re1+,Kd7,Re7+,Bxe7,Qxe7#', 'https://lichess.org/training/ZQweY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQwME', 'Rapid', 'Double_Think', 2160, 'maklis', 2208, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,c5,d5,e6,O-O,exd5,cxd5,Re8,Bd3,Bg4,Re1,Nbd7,Qc2,Bxf3,gxf3,Ne5,Be2,a6,a4,Qd7,Bf4,Nh5,Bg3,Qh3,f4,Nxg3,fxg3,Ng4,Bf1,Bd4+,Kh1,Nf2+', 'Qxf2,Bxf2,Bxh3,Bxe1,Rxe1', 'https://lichess.org/training/zQwME');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zQXfQ', 'Rapid', 'Meged', 1798, 'JmEricsson', 1796, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Qf6,c3,Nh6,Nf3,Ng4,Qe2,h6,h3,Nge5,Nbd2,Bc5,b3,d6,Bb2,a6,O-O-O,O-O,g4,Qf4,b4,Ba7,Rg1,Nxf3,Qxf3,Qxf3,Nxf3,Bxf2,Rg2,Be3+,Kc2,Be6,h4,Bxa2,g5,hxg5,hxg5,a5,b5,Ne7,Kd3,Bc5,c4,Ng6,Bc3,Nf4+,Kc2,Nxg2,Bxg2,Bxc4,Rb1,a4,Nh4,a3,e5,a2,Ra1,d5,Nf5,d4,Bxd4,Bxd4', 'Ne7+,Kh7,Rh1#', 'https://lichess.org/training/zQXfQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZqxKK', 'Rapid', 'balica', 2149, 'FasTimeS', 2063, 'd4,Nf6,Bg5,Ne4,Bh4,g5,f3,gxh4,fxe4,d5,e5,Bf5,Nf3,e6,e3,h3,g3,Bg4,Nbd2,h5,c3,h4,gxh4,Bh6,Qa4+,Nc6,O-O-O,Bxe3,Re1', 'Bxf3,Rxe3,Bxh1', 'https://lichess.org/training/ZqxKK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zqy82', 'Blitz', 'Athas00', 1537, 'bog_dmi', 1509, 'e4,c5,Nf3,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Nc6,O-O,Bd7,Re1,O-O-O,Bb5,Qg6,Ne4,e6,Ng3,f6,d4,cxd4,Nxd4,Nxd4,Qxd4,Bxb5,Qxa7,Bd6,Rxe6,Kd7,Re4,Bc6,Rd4,Ne7,Qc5,Kc7,Rxd6,Rxd6,Bf4,Rd8,Rd1,f5,Qa5+,Kc8', 'Qa8+,Kc7,Qxd8+,Kxd8,Rxd6+,Ke8,Rxg6', 'https://lichess.org/training/zqy82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zr0Hl', 'Blitz', 'Antonio3773', 1752, 'KP21', 1761, 'd4,d5,c4,e6,Nf3,Nf6,e3,a6,Nc3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,Nbd7,Be2,c5,O-O,cxd4,Bxd4,Qe7,Rc1,e5,Bc3,dxc4,Bb4,Nc5,Rxc4,b6,Qc1,Re8,Bxc5,bxc5,Rxc5,Nd7,Rc3,Bb7,Rc7,Rab8,Rd1,Red8,Qd2,Bc8,Qc3,Qf6,Nxe5,Nxe5,Rxd8+,Qxd8,Qxe5,Rxb2,Rxc8,Rb1+,Bf1,Qxc8,g3,g6,Kg2,Rb3,Qf4,Rxa3,Bc4,Rc3', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/zr0Hl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zr0z2', 'Classical', 'jblejb', 1740, 'achkobachko69', 1747, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Be2,Bd7,Ng5,h6,Nxf7,Kxf7,Bh5+,Ke7,Qf3,Be8,dxc5,Qxc5,Be3,Qb5,a4,Qxb2,Bc5+,Kd7,Qxf8,Bxh5,Qd6+,Kc8,Qxe6+,Kd8,Qxd5+,Ke8,Qe6+,Nge7,O-O,Qxa1,Nd2,Qxa4,Nc4,Bf7', 'Nd6+,Kd8,Nxf7+', 'https://lichess.org/training/zr0z2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zr1MG', 'Blitz', 'runchess2', 1663, 'Prime_Patzer', 1756, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,Ngf3,cxd4,Nxd4,Qb6,N2f3,Bg4,Bb5+,Nc6,O-O,Bc5,Re1+,Ne7,Be3,O-O,Nxc6,Nxc6,Qxd5,Bxe3,Rxe3,Bxf3,Rxf3,Nd4,Rxf7,Rxf7,Bc4,Rf8,Re1,Qxb2', 'Qxf7+,Rxf7,Re8#', 'https://lichess.org/training/Zr1MG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zR1p5', 'Rapid', 'mastervianey', 1963, 'Meeklydim', 1940, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,O-O,Bg5,h6,Bh4,d5,e3,b6,cxd5,g5,dxe6,gxh4,exf7+,Rxf7,Nxh4,Bb7,Bc4,Bd5,Bd3,Ne4,Bxe4,Bxe4', 'Qg4+,Qg5,Qxe4', 'https://lichess.org/training/zR1p5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZR2BD', 'Rapid', 'Derpincard', 1710, 'Reyvin', 1667, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,g6,Be3,Bg7,Bc4,Nf6,f3,O-O,Qd2,Nxd4,Bxd4,e5,Be3,Qc7,Bb3,Rd8,O-O,a6,Kh1,b5,Nd5,Nxd5,Bxd5,Bb7,Rf2,Bxd5,Qxd5,b4,Rd2,Rab8,Rad1,Bf8,Bg5,Rd7,Bf6,Rb5,Qb3,a5,c4,Rc5,Bg5,Kg7,Rc2,Qc8,Be3,Rc6,Qa4,Qa6,Rd5,Rxc4', 'Rxc4,Qxc4,Qxd7', 'https://lichess.org/training/ZR2BD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zr2HQ', 'Rapid', 'Latte10', 1698, 'jlmirande', 1678, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Nc3,Qe6+,Be2,Bxf3,gxf3,Nc6,a3,Nd4,d3', 'Nxf3+,Kf1,Qh3#', 'https://lichess.org/training/Zr2HQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zr3cg', 'Classical', 'troi-p', 1913, 'Lapetya', 1967, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bb5+,Nc6,Ne5,Qc7,Bf4,e6,Qd2,Bd6,Bg3,Nf6,Nxc6,bxc6,Bxd6,Qxd6,Bd3,Ne4,Qe2,O-O,f3,Nf6,Bxf5,exf5,O-O,Rab8,c3,Rfe8,Qc2,f4,Nd2,c5,Nb3,c4,Nc5,Re3,Rfe1,Rbe8,Rxe3,fxe3,Re1,Qf4,Qe2,h5,g3,Qf5,Kg2,g5,Rf1,Nd7', 'g4,Qf4,Nxd7', 'https://lichess.org/training/zr3cg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zr3q2', 'Rapid', 'altinoth', 1718, 'Insaide', 1675, 'e4,e5,Nf3,Nf6,Nc3,Bb4,d3,Bxc3+,bxc3,d6,Bg5,h6,Bh4,Nbd7,Be2,b6,O-O,g5,Bg3,Bb7,h4,g4,Nd2,h5,Re1,Nf8,Bf1,Ng6,d4,Nd7,d5,Nxh4,Qe2,Ng6,f3,h4,Bf2,Nf4,Qc4,h3,gxh3,gxh3,Kh2,Nf6,Be3,Qd7,Bxf4,exf4,e5,Nxd5,exd6+,Kd8,Ne4,cxd6,Rad1,Rc8,Qd4,Kc7,c4,Ne3,Nxd6,Nxd1', 'Nb5+,Kb8,Qxd7', 'https://lichess.org/training/zr3q2');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 41;
-    }
-
-}
\ No newline at end of file
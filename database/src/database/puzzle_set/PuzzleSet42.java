@@ -1,408 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet42 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zr4bp', 'Rapid', 'bobobalogh', 2284, 'GOHelLmAn', 1967, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,c3,Bd6,Nbd2,Bxf4,exf4,O-O,Ne5,Nbd7,Be2,c5,Ndf3,Rc8,O-O,Qb6,Qb3,Be4,dxc5,Rxc5,Nd2,Nxe5,fxe5,Nd7,Qxb6,Nxb6,Nxe4,dxe4,Rfd1,Rd5,f4,Rfd8,Kf2,Rd2,Ke3,Nc4+,Kf2,Nxb2,Rxd2,Rxd2,Ke3,Rc2,Bd1,Rxc3+,Kxe4,Rc4+,Ke3,Kf8,Bb3,Rc6,Kd4,b6', 'Rb1,Nc4,Bxc4', 'https://lichess.org/training/zr4bp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zr5yT', 'Rapid', 'muhamad_syed', 1800, 'Ferrix1409', 1872, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Bxc6,dxc6,c3,Bg4,Re1,Bd6,Qb3,Rb8,d4,Bxf3,gxf3,O-O,Bg5,c5,d5,h6,Bh4,Re8,Nd2,b5,a4,c4,Qc2,g5,Bg3,Qd7,Kg2,c6,dxc6,Qxc6,h3,Nd7,b4,cxb3,Nxb3,bxa4,Na5,Qb5,Qxa4,Nc5,Qxb5,Rxb5,c4,Rb6,Red1,f6,Rd5,Ne6,Rad1,Bb4,Nb3,Bc3,Nd2,Bd4,Nf1,h5,Ne3,h4,Bh2,Rb2,Ng4,Kg7,Rd6,Kf7,Bg1,Ra8,Nh6+,Ke7,Nf5+,Kf7,Rd7+,Ke8', 'Re7+,Kf8,Rxe6', 'https://lichess.org/training/Zr5yT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZR6DY', 'Rapid', 'Vlkt0r', 1828, 'aliee-63m', 1733, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,e5,Nf3,Bc5,Bc4,h6,Bxf7+,Kf8,Qd5,Qe7,O-O,Nf6,Qc4,b5,Qxb5,Kxf7,Nc3,Nd4,Nxd4,Bxd4,Nd5,Nxd5,Qxd5+,Kf6,Qxa8,Qc5,Be3,Bxe3,fxe3+,Kg6,Rf3,Kh7,c3,Qb6,Raf1', 'Bb7,Qxh8+,Kxh8', 'https://lichess.org/training/ZR6DY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zr7fN', 'Rapid', 'Pesan', 1654, 'fchess2020', 1827, 'e4,e5,Nf3,Nc6,Nc3,d6,d4,Bg4,dxe5,Nxe5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,c6,O-O,Qf6,Qe3,Qe6,f4,Nf6,f5,Qe5,h3,Be7,Bd2,Bd8,Rae1', 'Bb6,Qxb6,axb6', 'https://lichess.org/training/zr7fN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zr8Nq', 'Blitz', 'McMaeh', 2393, 'FM alanford', 2378, 'd4,Nf6,Bg5,Ne4,h4,c5,dxc5,Qa5+,Nd2,Nxg5,hxg5,Qxc5,g6,fxg6,e3,d5,Ngf3,Nc6,Bd3,e5,Bxg6+,Kd8,Rxh7,Rxh7,Bxh7,Bg4,Nb3,Qd6,e4,d4,Qd2,Kc7,O-O-O,Rd8,Qg5,Bxf3,gxf3,a5,Kb1,a4,Nc1,a3,b3,Nb4,Nd3,Nxd3,cxd3,Kb8,Bf5,Be7,Qxg7,Bf6,Qf7,Rf8,Qc4,Bg5,Bg4,Rh8,b4,Rh6,Kc2,Qb6,Kb3', 'Rc6,Bd7,Rxc4', 'https://lichess.org/training/zr8Nq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zR8r6', 'Rapid', 'ChessEgoBreaker2711', 1763, 'kakocai', 1775, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qa5,Nf3,e6,a3,Bb4,Bd2,Bxc3,Bxc3,Qb6,e3,O-O,Bd3,Nd5,Bd2,Nd7,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,N7f6,Qh4,Qxb2,Rd1,e5,O-O,e4,f3,Qxa3,fxe4,Nxe3,Bxe3,Qxe3+,Kh1,Bg4,Rxf6,Qxe4,Rf4,Qg6,Qxg4,Rae8,Rdf1,Re3,Rxf7,Rxf7', 'Qc8+,Re8,Qxe8+,Rf8,Qxf8#', 'https://lichess.org/training/zR8r6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zr9QK', 'Blitz', 'IM Pri_sachu', 2506, 'vava05', 2382, 'e4,d5,exd5,c6,dxc6,Nxc6,Nf3,Nf6,Be2,e5,O-O,e4,Ne1,Bd6,d3,O-O,dxe4,Nxe4,Nd2,Bf5,Nxe4,Bxe4,Bd3,Re8,Bxe4', 'Bxh2+,Kxh2,Qxd1', 'https://lichess.org/training/Zr9QK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZRBDW', 'Blitz', 'clean123', 1810, 'UrbainStakys', 1817, 'd4,Nf6,Bf4,d6,e3,g6,Be2,Bg7,c3,O-O,Nd2,c6,Ngf3,b5,Qc2,Nbd7,h4,h5,O-O-O,a5,a4,Ba6,Rdg1,bxa4,Bxa6,Rxa6,Qxa4,c5,Ng5,cxd4,exd4,Qb6,Nc4,Qc7,f3,Rc8,Ne3,e5,dxe5,Nxe5,Bxe5,dxe5,g4,hxg4,Nxg4,Nxg4,fxg4,Bh6,Kc2,Qc4,Qxc4,Rxc4,Nf3,f6,h5,Bf4,hxg6,a4,Rh7,Re4,Rgh1,Re2+,Kd1,Rxb2', 'Rh8+,Kg7,R1h7+,Kxg6,Nh4+,Kg5,Rg8#', 'https://lichess.org/training/ZRBDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZrCYa', 'Classical', 'madari94', 1775, 'Alcalmisov', 1748, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,a6,a3,Nf6,d4,Bxd4,Nxd4,Nxd4,Ne2,Ne6,f4,exf4,Nxf4,Nxf4,e5,Ne4,Bxf4,O-O,Bd3,Nc5,b4,Nxd3+,Qxd3,Re8,Qg3,d6,O-O-O,d5,Bh6,g6,h4,c6,h5,Qe7,hxg6,fxg6,Rde1,Bf5,Rh5,Qe6,Bf4,Kh8,Rh6,Re7,Reh1,Rd8,Re1,Rdd7,Bg5,Rf7,Qh4,Rc7,Bf6+,Kg8,Bg7,Rc8,Rxh7,Rxg7,Rh8+,Kf7,Rxc8,Qxc8,Qf6+,Kg8,e6,Qe8,e7,Be4,Qe6+,Rf7,Rxe4,dxe4,Qxg6+,Kh8,Qh6+,Rh7', 'Qf8+,Qxf8,exf8=Q#', 'https://lichess.org/training/ZrCYa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zrDYv', 'Rapid', 'prem143', 1646, 'timoffei09', 1643, 'd4,d5,e3,Nf6,f3,a6,Be2,b5,Bd2,Nbd7,a3,e6,h3,Bb7,g4,c5,h4,cxd4,exd4,e5,c3,Be7,Be3,Nb6,Nd2,Nc4,Bxc4,dxc4,dxe5,Nxg4,Bd4,Bxh4+,Ke2,O-O,Rxh4,Qxh4,fxg4,Qxg4+,Ngf3,Rae8,Qg1,Bxf3+,Nxf3,Qe4+,Be3,f5,Kf2,f4,Bd4,Qc2+,Kf1,Qxb2,Re1,Qxa3,Qh1,Re6,Ng5,Rh6,Qg1,b4,Ne6,Rxe6,Bc5,Rf5,Bxb4,Qb3,Qg4,Rfxe5,Rxe5,Rxe5,Qc8+,Kf7,Qc7+,Kf6,Qd8+,Kf5,Qf8+,Ke4,Qa8+,Kf5,Qf8+,Kg4,Qxg7+,Kf3', 'Qg2+,Ke3,Qe2#', 'https://lichess.org/training/zrDYv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zReym', 'Blitz', 'denis_rus', 1626, 'austinwheeler03', 1579, 'e3,e5,b3,d5,Bb2,Nc6,Bb5,e4,Bxc6+,bxc6,d3,Nf6,dxe4,Nxe4,Nd2,Nxd2,Qxd2,Qg5,g3,a5,Nf3,Qf5,Nd4,Qf6,f4,c5,Nb5,Qxb2,Nxc7+,Kd7,Qxd5+,Kxc7,Qxf7+,Kb8,Rd1,Bb7,Qe8+,Ka7,Qb5,Qc3+,Kf2,Bxh1', 'Rd7+,Bb7,Rxb7#', 'https://lichess.org/training/zReym');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zrFfY', 'Rapid', 'Alex-Krasnoyarsk', 1602, 'VenomV199', 1758, 'd4,Nf6,Nc3,b6,e4,Bb7,e5,Nd5,Bd2,e6,Nf3,Bb4,Nxd5,Bxd2+,Qxd2,Bxd5,Qf4,Qe7,Qg3,g6,Bd3,Qb4+,c3,Qxb2,O-O,Qxc3,Ng5,Nc6,Nxf7,Qxd4,Nxh8,Nxe5,Rad1,Nxd3,Rxd3,Qxh8,Re1,O-O-O,Rc3,d6,Rec1,c5,a4,Qf6,Ra3,h5,h3,h4,Qg4,Rf8,Rc2,g5,Rd2,Qe5,Re3,Qa1+,Rd1,Qa2,Re2,Qb3,Re3,Qc2,Rxd5', 'Qxf2+,Kh1,Qxe3', 'https://lichess.org/training/zrFfY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZrFPq', 'Blitz', 'Kung_Fu_Panda3', 2460, 'DrDarkshaper', 2100, 'd4,d5,Nf3,e6,Bf4,Bd6,Bxd6,Qxd6,c3,Nf6,e3,O-O,Nbd2,b6,Bd3,c5,O-O,Ba6,Bxa6,Nxa6,Qe2,c4,e4,dxe4,Nxe4,Nxe4,Qxe4,Nc7,Ng5,g6,Qh4,h5,Ne4,Qd8,Qg3,b5,Rad1,a5,Qe5,Nd5,Rfe1,b4,a3,bxc3,Nxc3,Nxc3,bxc3,Rb8,Re3,Rb3,Rg3,Qe7,f4,Qxa3,d5,Rd8,Rf1,Rxd5,Rxg6+,fxg6,Qxe6+,Kg7,Qxd5,Rxc3,Qe5+,Kf7,f5,g5,Qe6+,Kf8,f6,Re3,Qc8+,Re8,Qxc4,Qe3+,Kh1,Qe6,Qc5+,Kf7,Qxg5,Rg8,Qxh5+,Kf8,Qh6+,Kf7,Qh7+,Kf8,Rc1,Qe8,Rc8,Qxc8', 'Qe7#', 'https://lichess.org/training/ZrFPq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zrgii', 'Classical', 'sebb7y', 1680, 'Tolllk', 1691, 'Nf3,d5,d4,c5,dxc5,Nc6,e4,dxe4,Qxd8+,Nxd8,Ng5,Nf6,Bc4,e6,Nc3,Bxc5,Ngxe4,Nxe4,Nxe4,Bb6,Nd6+,Ke7,Nxc8+,Rxc8,b3,Nc6,Bb2,Bd4,O-O-O,Bxb2+,Kxb2,Rhd8,Rd3,Rxd3,Bxd3,g6,h4,a6,h5,b5,hxg6,hxg6,Rh7,Kf6,g4,g5,Rh6+,Ke5,Rh5,f6,f3,Nd4,Rh3,Kf4,Rh6,Rf8,Be4,Nxf3,Bb7,a5,Rh3,Ne5,Ba6,b4,Be2,Nxg4,Rf3+,Ke4,Rd3,Ne5,Rd6,Re8,Bb5,Re7,Ra6,Rb7,Rxa5,g4,Bf1,g3,Ra6,Kd5', 'Bg2+,Kd4,Bxb7', 'https://lichess.org/training/zrgii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZrglE', 'Classical', 'mohamadali2000000', 1879, 'siadat', 1990, 'f4,d5,e3,e6,Nf3,c5,Be2,Bd6,c4,Nf6,b3,Nc6,Bb2,O-O,cxd5,exd5,O-O,Bf5,d3,Re8,Ne5,Nxe5,fxe5,Bxe5,Bxe5,Rxe5,d4,cxd4,exd4,Qb6,Kh1,Rxe2,Qxe2,Qxd4,Na3,Be4,Rad1,Qc5,Nb5,a6,Rc1', 'Qxb5,Qxb5,axb5', 'https://lichess.org/training/ZrglE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zri4m', 'Rapid', 'RomanLUBITEL', 2113, 'Pavel23', 2178, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,O-O,Be2,c5,O-O,Nc6,Be3,Bg4,e5,Qa5,Qb3,Rab8,a4,Rfd8,Rfd1,cxd4,cxd4,Be6,Bc4,Bxc4,Qxc4,e6,Ng5,Qd5,Qe2,Ne7,f3,Rbc8,Ne4,Nf5,Bf2,Qc4,Qb2,Qc2,Qxb7,Bxe5,Qxc8,Rxc8,dxe5,Qb2,f4,Ne7,Rab1,Qa2,Rb7,Nd5,Nd6,Qxa4,Rf1,Rf8,Rxa7,Qxf4,Bc5,Qxe5,Nxf7,Qc3', 'Nh6+,Kh8,Rxf8#', 'https://lichess.org/training/Zri4m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZRjZy', 'Rapid', 'ilya408', 1983, 'knightfurious', 1874, 'd4,d5,Nf3,Nc6,c3,Nf6,Nbd2,Bg4,Qb3,Na5,Qa4+,c6,b4,Nc4,Nxc4,dxc4,Nd2,Qd5,f3,Bh5,e4,Qb5,Qa3,e6,Bxc4,Qg5,O-O,Nd7,Bd3', 'Qe3+,Rf2,Qxd3', 'https://lichess.org/training/ZRjZy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZrK2C', 'Rapid', 'CryingMantis', 1603, 'Ciubix', 1601, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Bc5,Be3,O-O', 'Nxc6,bxc6,Bxc5', 'https://lichess.org/training/ZrK2C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zRKQD', 'Rapid', 'GENIUS2992', 1893, 'edize-com', 1902, 'd4,d5,Nf3,Nc6,e3,Bg4,Be2,e6,O-O,Bd6,Nbd2,Nf6,a3,O-O,c4,dxc4,Nxc4,Be7,b3,a6,Bb2,b5,Nce5,Nxe5,Nxe5,Bxe2,Qxe2,Bd6,f4,Nd5,Rac1,Bxe5,dxe5,Qd7,e4,Nb6,Rfd1,Qe7,f5,exf5,exf5,Rfd8,f6,Rxd1+,Rxd1,Qc5+,Bd4,Qf8,e6,fxe6,fxg7,Qf7,Rf1,Qd7,Qg4,e5,Qf3,exd4', 'Qf8+,Rxf8,gxf8=Q#', 'https://lichess.org/training/zRKQD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zRkS8', 'Rapid', 'zestsunil', 1662, 'Deben', 1629, 'e4,e5,Nf3,d6,Be2,Nf6,d3,Nc6,O-O,Be7,c3,O-O,Bg5,Bg4,Nbd2,h6,Bh4,a6,h3,Bh5,d4,exd4,Nxd4,Bxe2,Qxe2,Nxd4,cxd4,c6,f4,Re8,Rae1,Nxe4', 'Bxe7,Rxe7,Nxe4', 'https://lichess.org/training/zRkS8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZRlaV', 'Classical', 'Honore', 1710, 'tunaacil', 1768, 'e4,c5,Nf3,d6,g3,Nf6,d3,g6,Bg2,Bg7,O-O,Nc6,c3,O-O,Re1,Bd7,Be3,Qc8,Nbd2,Bh3,Nf1,Bxg2,Kxg2,Ng4,Qd2,Nxe3+,Nxe3,Bh6,Qe2,b5,d4,cxd4,cxd4,a6,Rac1,Qd7,Rc2,Nb4,Rcc1,Nxa2,Rcd1,Nb4,e5,dxe5,dxe5,Qe6,h3,Rac8,Ng4,Bg7,Qd2,Nc6,Ng5,Qb3,Re3,Qa2,Ra3,Qc4,Rc1,Qb4,Qxb4,Nxb4,Rxc8,Rxc8,e6,fxe6,Nxe6,Bxb2,Rb3,Rc6,Rxb2,Nd3,Rb3', 'Ne1+,Kf1,Rxe6', 'https://lichess.org/training/ZRlaV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZrlEI', 'Rapid', 'sb19822008', 1865, 'Hamlet13mx', 1887, 'e4,e6,d4,d5,Bd3,Nf6,Nc3,c5,exd5,Nxd5,Nxd5,exd5,Nf3,Nc6,Bb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/ZrlEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZrNIN', 'Blitz', 'xsecure', 1722, 'neebh5', 1713, 'e4,e5,Nf3,Bc5,Nc3,d6,d4,exd4,Nxd4,Qf6,Be3,Nc6,Bb5,Bd7,Nd5,Qd8,c3,Nge7,Nxe7,Nxe7,Bxd7+,Qxd7,O-O,O-O,Qf3,Bxd4,cxd4,Qb5,b3,Ng6,Qg3,f5,exf5,Rxf5,Rac1,Rc8,Qg4,Rff8,Qe6+,Kh8,Rfe1,Rfe8,Qf7,Rf8,Qe6,Rce8,Qg4,c6,Re2,d5,Rce1,Qa5,Bg5', 'Qxe1+,Rxe1,Rxe1#', 'https://lichess.org/training/ZrNIN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zRO5D', 'Blitz', 'Violet_Pride', 2603, 'IM Toro123', 2636, 'd4,d5,c4,e6,Nc3,c6,e4,dxe4,Nxe4,Bb4+,Nc3,c5,a3,Ba5,Be3,Nf6,dxc5,Bxc3+,bxc3,Qa5,Qb3,O-O,Qb4,Qc7,Nf3,Nc6,Qb2,Ng4,Bg5,Nce5,Be2,Qxc5,Nxe5,Nxe5,Qb4,Nd3+,Bxd3,Qxg5,O-O,b6,Be4,Rb8,a4,Bb7,Bxb7,Rxb7,a5,Rc7,axb6,axb6,Ra6,Qc5,Rxb6,Qxc4,Qxc4,Rxc4,Rb3,Rfc8,Rc1,e5,Kf1,f5,Ke2,R8c7,Kd3,Kf7,f3,h5,Re1,Kf6,Rb6+,Kg5,Rc1,g6,g3,h4,Re6,R7c5,Rxe5,hxg3,hxg3,Rxe5,Kxc4,Re3,f4+,Kg4,Kd4,Rxg3,c4,Kxf4,c5,Rh3,c6,Rh8,Rf1+,Kg5,Ke5,Re8+,Kd6,f4,Kd7,Ra8,c7,Kf5,c8=Q', 'Rxc8,Kxc8,g5,Kd7,g4', 'https://lichess.org/training/zRO5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zro5p', 'Classical', 'DontHurtMeImNoob', 1610, 'Pedro_Renan', 1614, 'd4,d5,Bf4,Nf6,e3,Nbd7,c3,e6,Bd3,c5,Nf3,Be7,Ne5,c4,Bc2,b6', 'Nc6,Bb7,Nxd8', 'https://lichess.org/training/Zro5p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZrOL8', 'Blitz', 'NM scabies', 2383, 'Veligosha1975', 2356, 'Nf3,Nf6,c4,g6,b3,Bg7,Bb2,O-O,e3,d6,Be2,e5,O-O,Nbd7,d4,e4,Nfd2,c6,Nc3,Re8,Qc2,Qe7,Rae1,h5,f3,exf3,Bxf3,Ng4,Bxg4,hxg4,Nce4,f5,Ng3,Bh6,e4,f4,Ne2,g5,e5,Nf8,Ne4,dxe5,dxe5,Bf5,N2c3,Kh8,Qc1,Ne6,Nf6,Red8,Nce4,Nd4,Nd6,c5,Bxd4,Rxd6,exd6,Qxd6,Bb2,Bg7,Re8+,Rxe8,Nxe8,Bd4+,Kh1,Qe5,Bxd4,cxd4,Re1,Be4,Qc2', 'Bxg2+,Kxg2,Qxe1', 'https://lichess.org/training/ZrOL8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zrPG8', 'Classical', 'Kvelematt', 2146, 'Bert59', 2110, 'e4,c6,Ne2,d5,e5,Bf5,Ng3,Bg6,h4,h5,e6,fxe6,d4,Nf6,Bd3,Bxd3,Qxd3,Kd7,f4,Na6,c3,Nc7,Nd2,Qe8,Nf3,Kc8,b4,Nd7,Bd2,g6,O-O,Bh6,a4,Rf8,Ne5,Nxe5,fxe5,Bxd2,Qxd2,Rxf1+,Rxf1,Kd7,Qc2,Qg8,Qd2,Qg7,Qg5,a5,Nxh5,Qh7,Nf4,axb4,cxb4,Rxa4,Rb1,Nb5,Nxg6,Nxd4', 'Nf8+,Kd8,Nxh7', 'https://lichess.org/training/zrPG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZrPGd', 'Rapid', 'Ajolote4', 2232, 'googlesamojed', 2103, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,d3,d6,h3,O-O,Nc3,b5,Bb3,Na5,Nd5,Nxd5,Bxd5,c6,Bb3,Nxb3,axb3,Be6,d4,Qc7,Ng5,exd4,Qxd4,Bf6,Qd3,Qd7,f4,Bxg5,fxg5,a5,Bf4,Rfd8,Rad1,Qa7+,Kh1,d5,Be5,Qe7,Qc3,Qxg5,Bf4,Qg6,e5,Bf5,Rf3,b4,Qc5,Qe6,Bg5,Rdc8,Rdf1,Bg6,Qd6,Be4,Rxf7', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/ZrPGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zrPhH', 'Rapid', 'ScarryTerry', 1813, 'Garcial', 1662, 'e4,c6,d4,d5,Nc3,a6,Bf4,b5,a3,dxe4,Nxe4,Bf5,Qf3,e6,Ng3,Bxc2,Rc1,Bb3,Qxb3,Nd7,Nf3,Rc8,Bd3,c5,O-O,c4,Qc2,Nb6,Bxh7,Nf6,Rfd1,Nxh7,Qe2,Nd5,Bd2,Be7,Ne5,Nhf6,Re1,Qb6,Bc3,Nf4,Qf3,N6d5,Re4,g5,Ne2,a5,Nxf4,gxf4,Rxf4,Nxf4,Qxf4,f6,Ng6,Qd6', 'Qxd6,Bxd6,Nxh8', 'https://lichess.org/training/zrPhH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zRPj2', 'Rapid', 'DusanTop', 1548, 'marcomidulla', 1563, 'e4,e5,Nf3,d6,Nc3,Bg4,Bc4,Nc6,d3,Nd4,h3,Bxf3,gxf3,Qf6,Bb5+,c6,Ba4,Qxf3,Qxf3,Nxf3+,Ke2,Nd4+,Kd1,b5,Bb3,Nxb3,axb3,a5,Be3,Ne7,Bb6,a4,bxa4,bxa4,Rxa4,Rxa4,Nxa4,Ng6,Be3,f6,h4,h5,Nb6,Be7,f3,O-O,c3,Rb8,Nc4,d5,Na5,Rxb2,Nxc6,Rb1+,Bc1,Ba3,Rh2,Rxc1+,Kd2,Rb1,Ke3,Bc1+,Kf2,Rb2+,Kg1,Rxh2,Kxh2,Nf4,Ne7+,Kf7,Nxd5,Nxd5,exd5,Ke7,c4,Kd6,Kg2,g5,Kf2,gxh4,Ke2,h3,Kf1,h2,Kg2,Bf4,Kh1,Kc5,Kg2,Kd4,d6,Bg5,Kxh2,f5,Kg3,h4+,Kh3,Kxd3,c5,Kc4', 'c6,Kc5,c7,Kxd6,c8=Q', 'https://lichess.org/training/zRPj2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zrpYr', 'Blitz', 'noerer', 1705, 'ryndin-sergei', 1598, 'd4,e6,c4,Nf6,Nc3,Nc6,Bg5,Be7,Nf3,Ng4,Bxe7,Nxe7,h3,Nf6,e4,Ng6,Be2,Nf4,O-O,Nxe2+,Nxe2,O-O,Qc2,b6,Ng5,h6,Nf3,Bb7,e5,Bxf3,gxf3,Nh5,Ng3,Nf4,Qe4,Nxh3+,Kh2,Ng5,Qg4,f5,Qh5,Qe8,f4,Qxh5+,Nxh5,Nf3+,Kh1,Nxd4,Rg1,Rf7,Rg6,Kh7,Rag1,Rg8,Nf6+,Kh8', 'Rxh6+,gxh6,Rxg8#', 'https://lichess.org/training/zrpYr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zRpZB', 'Rapid', 'Saidrasul', 1610, 'fymer', 1623, 'e4,e5,Bc4,Bc5,Nf3,Qf6,d3,h6,O-O,Be7,Nc3,c6,Be3,Qg6,Nd2,d6,Qf3,Bg4,Qg3,Nf6,h3,Nh5,Qh2,Bd7,g3,Nf6,f4,exf4,Bxf4,Qh5,h4,Ng4,Qe2,g5,Bxd6,Bxd6,Bxf7+,Qxf7,Rxf7,Kxf7,Nf3,Bxg3,e5,Bh2+,Kg2,Bf4,Re1,Ne3+,Kh1,c5,Ne4,Nc6,Nd6+,Ke6,Nxb7,Nd4,Nxd4+,Kd5,Nf3,g4,Nh2,g3,Rf1', 'g2+,Qxg2+,Nxg2', 'https://lichess.org/training/zRpZB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zrQIP', 'Rapid', 'ed_hoch', 1720, 'djek', 1801, 'd4,Nf6,c4,e5,Nc3,exd4,Qxd4,Nc6,Qd1,Bb4,Bd2,d6,Nd5,Bxd2+,Qxd2,O-O,Nxf6+,Qxf6,Nf3,Bg4,h3,Bxf3,exf3,Qd4,O-O-O,Qxd2+,Rxd2,Rfe8,Bd3,Nb4,Bb1,Re7,a3,Nc6,Be4,Na5,Kc2,Nxc4,Rd4,Ne5,Bxb7,Rb8,Be4,g6,b4,f5,Bd5+,Kg7,Re1,Rbe8,f4,Nf7,Rxe7,Rxe7,Kd2,Nd8,b5,Kf6,h4,Ne6,Bxe6,Rxe6,Ra4,Re4,Rxa7,Rxf4,Rxc7,Rxf2+,Ke3,Rxg2,Kf3,Rh2,Rxh7,Rh3+,Kf4,Rxa3,b6,Rb3,b7,d5,Rd7,Rb6', 'Rd6+,Rxd6,b8=Q', 'https://lichess.org/training/zrQIP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zrqSg', 'Rapid', 'Slooze', 1780, 'hanikaci', 1774, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,O-O,Bd3,Nbd7,Nge2,e5,d5,c6,Qd2,Ng4,Bg5,f6,Bh4,g5,Bg3,h5,h4,Nc5,Bc2,b5,f3,Nh6,hxg5,fxg5,Rxh5,bxc4,O-O-O,cxd5,Nxd5,Rb8,Rdh1,Be6,Rxh6,Bxh6,Rxh6,Bxd5,Qxd5+,Rf7,Bf2,g4,Be3,Qb6,b3,cxb3,Bxb3,Nxb3+,axb3,Qxe3+,Kd1,Qxh6,Ng3,Kg7,Nf5+,Rxf5,exf5,g3,Qc4,Qh1+,Ke2,Qxg2+,Ke3,Qg1+,Ke2,Qf2+,Kd1,g2,Qc7+,Kf6,Qxd6+,Kg5', 'Qg6+,Kf4,Qg4+,Ke3,Qe4#', 'https://lichess.org/training/zrqSg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zRquY', 'Blitz', 'NM ka1ser', 2434, 'Titugina', 2198, 'd4,c5,c4,cxd4,Qxd4,Nc6,Qd3,e5,Nf3,Be7,Nc3,d6,e4,Nf6,Be2,O-O,O-O,Be6,Bd2,a6,b3,Qd7,Rac1,Nb4,Qb1,Nc6,Rfd1,Rac8,Be3,Bg4,Nd5,Nxd5,exd5,Bxf3,Bxf3,Nb8,a4,Qd8,b4,Nd7,a5,f5,Be2,f4,Bd2,Bf6,Bd3,h6,Bf5,Be7,Be6+,Kh8,f3,Rb8,Be1,Nf6,Bf2,Qe8,c5,dxc5,bxc5,Bd8,Qa1,Qb5,Qxe5,Bxa5,d6,Nd7,Qd5,Nf6,Qe5,Qc6,Qxf4,Rbe8,Ba2,Bd8,Bb1,Qd7,Bd4,Qf7,Qf5,Kg8,Re1,Rxe1+,Rxe1,Re8,Rxe8+,Qxe8,Kf2,Qa4,Bxf6,Bxf6,Qc8+,Kf7,Qc7+,Kg8,Qc8+,Kf7,Qxb7+,Kg8,Qc8+,Kf7,Qb7+,Kg8,c6,Qd4+,Kg3', 'Qh4#', 'https://lichess.org/training/zRquY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zrs4Y', 'Classical', 'quadafoc', 1900, 'mehdisov', 1887, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bb5,Bd7,O-O,e5,Nf3,Be7,h3,O-O,Bg5,a6,Bxf6,axb5,Bxe7,Nxe7,Qxd6,b4,Qxb4,Ng6,Rad1,Qc8,Ne2,Ra4,Qb3,Rxe4,Qd3,Bc6,Ng3,Nf4,Qc3,Re8,Nxe4', 'Ne2+,Kh2,Nxc3', 'https://lichess.org/training/zrs4Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zrscA', 'Classical', 'Markhor3', 1749, 'antoniusca', 1768, 'e4,d6,Nf3,Nf6,Nc3,Nc6,d4,g6,Bb5,a6,Ba4,b5,Bb3,Bg7,O-O,Na5,Re1,O-O,Be3,Bg4,h3,Nxb3,axb3,Bc8,Qd2,Re8,Bh6,Bh8,d5,Bb7,Rad1,b4,Na2,a5,c3,bxc3,bxc3,c5,dxc6,Bxc6,b4,Nxe4,Qf4,Nxc3,Nxc3,Bxc3,Ng5,Bf6,Rc1,e5,Qc4,Bxg5,Bxg5,Qxg5,Qxc6,axb4,Qxd6,b3,Rb1,Rab8,Qd5,b2,Re2,Qc1+,Re1,Rbd8,Qxd8', 'Qxe1+,Rxe1,Rxd8', 'https://lichess.org/training/zrscA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZrSSM', 'Rapid', 'chwilliams1', 1702, 'Meshooo200858', 1679, 'e4,e5,Bc4,Nf6,Qe2,Nc6,Nf3,Na5,Na3,a6,d4,d5,exd5,Nxc4,Nxc4,Qxd5,dxe5,Ne4,Bf4,Bb4+,c3', 'Nxc3,bxc3,Bxc3+,Ncd2,Bxa1', 'https://lichess.org/training/ZrSSM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zRtNJ', 'Classical', 'Megahom', 1795, 'TragicPrinceFer', 1770, 'e4,c5,Bc4,e6,Nf3,Nc6,c3,Qc7,d4,cxd4,cxd4,Bb4+,Bd2,Nxd4,Bb3,Nxf3+,Qxf3,Bxd2+,Nxd2,Nf6,O-O,O-O,Nc4,b5,e5,Bb7,Qh3,bxc4,exf6,cxb3,Qg4,g6,axb3,Qe5,Qb4,Bd5,Qe7,Qxb2,Rfc1,a5,h3,Bxb3,Rcb1,Qc2,Rc1,Qe4,Rxa5,Rxa5', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/zRtNJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZRuEM', 'Blitz', 'IM micfel', 2255, 'traj0', 2256, 'e4,d6,d4,Nf6,Nd2,e5,c3,Be7,Bd3,O-O,Ne2,Nbd7,O-O,d5,exd5,Nxd5,Nf3,exd4,Nexd4,N7f6,Bf5,c5,Bxc8,Qxc8,Nc2,h6,Ne3,Rd8,Nxd5,Nxd5,Qc2,c4,Re1,Bf6,Bd2,b5,Re2,a5,a3,Rb8,Rae1,b4,axb4,axb4,cxb4,Nxb4,Bxb4,Rxb4,Ne5,Qc7,h3,g6,Nxg6,fxg6', 'Qxg6+,Qg7,Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/ZRuEM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zruLW', 'Blitz', 'FM LZ97', 2455, 'IM MATAGORDO', 2402, 'e4,d6,f4,Nf6,Nc3,c5,Nf3,Bg4,Bc4,e6,h3,Bxf3,Qxf3,Nc6,O-O,Be7,Ne2,O-O,c3,Rb8,Bb3,d5,e5,Nd7,d4,b5,f5,b4,Qg4,exf5,Rxf5,bxc3,bxc3,g6,Bxd5,Ndxe5,dxe5,Qxd5,Bh6,Rfe8,Raf1,Nxe5,Qg3,Bd6,Nf4,Qd2,Nxg6,Qxh6,Nxe5+,Qg6,Rg5,Bxe5,Rxg6+,hxg6,Qg4,Bxc3,h4,Rb4,Qd7,Rf8,h5,Rh4,hxg6,Bd4+,Rf2,fxg6,Qe6+,Kg7', 'Qe7+,Rf7,Qxf7+', 'https://lichess.org/training/zruLW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZRWDa', 'Blitz', 'gloriavictis101', 2180, 'bicyclethief', 2268, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Nf6,Re1,O-O,d4,Bb6,h3,h6,Be3,exd4,Bxd4,Nxd4,cxd4,d5,exd5,Nxd5,Nc3,Nxc3,bxc3,Bf5,a4,a6,a5,Ba7,Qb3,Rb8,Ne5,Qf6,g4,Bc8,Nxf7,Kh7,Bd3+,g6,Ne5,Qxf2+,Kh1,Qg3,Bxg6+,Kg7,Qc2,Qxh3+,Qh2,Qxh2+,Kxh2,c5,Rad1,cxd4,cxd4,Bxg4,Nxg4,Kxg6,Re6+,Kg5,Ne5,Rf2+,Kg3,Ra2,Nf3+,Kf5,Rde1,Rg8+,Kh4,Ra3', 'R1e5+,Kf4,Rf6#', 'https://lichess.org/training/ZRWDa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZrWTr', 'Rapid', 'businer', 1625, 'DivadLank', 1811, 'd4,Nf6,f3,e6,e3,b6,a3,c5,Nc3,cxd4,Qxd4,Nc6,Bd2,Nxd4,exd4,d5,O-O-O,Bd6,g4,Qc7,Kb1,O-O,h4,h5,gxh5,Nxh5,Be1,Bb7,Nge2,a6,Bd2,Rfc8,Rg1,b5,Rc1,Rab8,Bh6,g6,f4,Kh7,Bg5,f6,Bxf6,Nxf6,h5,Nxh5,Ng3,Nxg3,Rxg3,Bxf4,Rh3+,Kg7,Re1,Re8,Bd3,Re7,Rg1,g5,Ne2,Rh8,Nxf4,Qxf4,Rhg3,Qd6,Rxg5+,Kf8,Bg6,Bc6', 'Rf1+,Rf7,Rxf7+,Ke8,Rh7+,Kd8,Rxh8+', 'https://lichess.org/training/ZrWTr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZRY3W', 'Rapid', 'tasosz', 2080, 'BukLau253', 2118, 'e4,Nc6,Nf3,h6,d4,e6,c4,d5,cxd5,exd5,exd5,Qxd5,Nc3,Bb4,Bd2,Bxc3,bxc3,Qe6+,Be2,Nf6,O-O,O-O,Re1,Qd7,Bb5,Qd6,Ne5,Be6,Qa4,Nxe5,dxe5,Qxd2,exf6,a6,Bc4', 'b5,Bxb5,axb5', 'https://lichess.org/training/ZRY3W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zryeg', 'Rapid', 'Jrpipoca', 1951, 'IRON_TWISTER', 1908, 'd4,d5,c4,dxc4,e3,b5,a4,Bd7,axb5,Bxb5,Nc3,c6,Nf3,Nd7,d5,cxd5,Nxb5,Qb6,Nc3,e6,Be2,Bb4,Bd2,Ngf6,O-O,Nc5,Na4,Qb5,Nxc5,Bxc5,Qa4,Qxa4,Rxa4,Bd6,Bb4,Kd7,Bxd6,Kxd6,Rfa1,Rhb8,R4a2,Rb7,Nd2,Ne4,Nb1,f5,f3,Nc5,Nc3,Nb3,Ra6+,Ke7,Rd1,Nc5,Ra2,a6,Na4,Nxa4,Rxa4,Rxb2,Bf1,a5,Rda1,Rb5,h4,Kd6,Kf2,Kc5,Be2,e5,Kg3,Kb6,R1a2,Rb3,Kf2,c3,Rc2,Rc8,g3,Rb2,Ra2', 'Rxa2,Rxa2,c2,Rb2+,Ka7,Rxc2,Rxc2', 'https://lichess.org/training/zryeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zryr2', 'Blitz', 'X-els', 2045, 'SchachHolzig', 1956, 'e4,d6,d4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,c6,O-O-O,b5,Kb1,Qa5,Bh6,e5,Bxg7,Kxg7,d5,b4,Nce2,cxd5,Nc1,dxe4,Qxd6,Be6,Nb3,Bxb3,cxb3,exf3,gxf3,Nbd7,Bc4,Nb6,Ne2,Rad8,Qc6,Rc8,Qb5,Nxc4,bxc4,Qxb5,cxb5,Rc5,Rd6,Rxb5,Ra6,Rb7,Rd1,e4,f4,Ng4,h3,Nf2,Rg1,Nxh3,Rg3,Nf2,f5,Nd3,Rc6,b3,a3,a5,Nd4,Rd7,f6+,Kg8,Nf5,Ne5,Nh6+,Kh8,Rc1,Rd2,Rxb3,Nd3,Nxf7+,Kg8,Nh6+,Kh8,Rc7,Rxf6', 'Rb8+,Rf8,Rxf8#', 'https://lichess.org/training/Zryr2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zs21V', 'Rapid', 'Get_Brecht', 2096, 'bigfatlazycat', 1874, 'e4,e5,Nc3,d6,Nf3,c6,d4,f6,dxe5,fxe5,Nxe5,dxe5,Qh5+,Kd7,Qxe5,Qf6,Qg3,Bd6,Qd3,Kc7,Be3,Nd7,O-O-O,Bf4,Qc4,Bxe3+,fxe3,Ne7,Bd3,Ne5,Qa4,Bd7,Rhf1,Qh6', 'Qa5+,b6,Qxe5+', 'https://lichess.org/training/Zs21V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zs3rd', 'Classical', 'jouhain', 1622, 'Gunter29', 1644, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Bb5,Bd7,Qf3,Qc7,Be3,a6,Bc4,e5,Nf5,Bxf5,Qxf5,Nd4,Bxd4,Qxc4,Be3,Be7,O-O-O,O-O,h4,h5,f3,b5,Kb1,b4,Na4,Qe2,Bd2,Qxg2,Bxb4,Rfc8,Nc3,Rc4,Rhg1,Qh2,Bxd6,Bxd6,Qxf6,Bf8,Rh1', 'Qxh1,Rxh1,gxf6', 'https://lichess.org/training/zs3rd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zs4ZL', 'Rapid', 'yankar', 1868, 'Helemeri', 1840, 'd4,d5,c4,c6,Nc3,e6,e3,Nf6,Nf3,Be7,Bd3,dxc4,Bxc4,b5,Bd3,a6,O-O,O-O,Ne5,c5,Qf3,Ra7,Rd1,Bb7,Qg3,cxd4,exd4,Bd6,Be3,Qc7,f4,Ra8,Rac1,Nbd7,Nxb5,Qb8,Nxd6,Qxd6,Qh3,Rac8,g4,g6,Bf1,Qd5,Bg2,Qxg2+,Qxg2,Bxg2,Kxg2,Nxe5,dxe5,Nxg4,Bc5', 'Rxc5,Rxc5,Ne3+,Kf3,Nxd1', 'https://lichess.org/training/zs4ZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zs53P', 'Rapid', 'Matt1982', 1642, 'Yuriy_1985', 1602, 'c4,e6,g3,c5,Bg2,Nc6,d3,h6,Nf3,g5,b3,Bg7,Qd2,Bxa1,Bb2,Bxb2,Qxb2,Qf6,Qxf6,Nxf6,Nc3,g4,Nd2,O-O,Nb5,a6,Nd6,Nd4,h3,gxh3,Rxh3,Ng4,Bf3,f5,Bxg4,fxg4,Rxh6,Kg7,Rh4,Rh8,Rxg4+,Kf6', 'N2e4+,Ke7,Rg7+,Kd8,Nf7+,Kc7,Nxh8', 'https://lichess.org/training/zs53P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zS5fc', 'Rapid', 'leeuw', 1824, 'puchi99', 1816, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,a5,O-O,d6,d4,exd4,cxd4,Ba7,Be3,Bg4,Nbd2,h6,h3,Bh5,Qb3,Bb6,a4,Nf6,Rad1,O-O,Rfe1,Qd7,Qc3,Rae8,Rc1,Qc8,e5,dxe5,dxe5,Nd7,e6,fxe6,Bxb6,Nxb6,Bb3,Kh8,Ne5,Nxe5,Qxe5,Bf7,Rxc7,Qd8,Nf3,Re7,Rxe7,Qxe7,Nd4,Qb4,Bxe6,Re8,Nf5,Qf8,Nxh6,Rxe6', 'Nxf7+,Qxf7,Qxe6,Qxe6,Rxe6', 'https://lichess.org/training/zS5fc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zs75e', 'Blitz', 'LBachmann', 1795, 'Dkogan', 1831, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,h3,Bh5,d3,h6,Nbd2,Qf6,Qb3,O-O-O,a4,g5,a5,g4,hxg4,Bxg4,Bxf7,Nge7,a6,b6,Bd5,Bxf3,Nxf3,Nxd5,Qxd5,Kd7,Be3,Rhg8,Bxc5,Qxf3,g3,Rxg3+,fxg3,Qxg3+,Kh1,Rg8,Qf7+,Ne7,Rf2,Rg7,Qh5,Rg4,Rh2', 'Qf3+,Rg2,Qxg2#', 'https://lichess.org/training/zs75e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zs9TP', 'Classical', 'krishm001', 1756, 'Nouf13', 1685, 'd4,c5,dxc5,e6,Nf3,Bxc5,e3,Nf6,Be2,O-O,a3,d5,b4,Be7,Bb2,a6,O-O,b5,Nbd2,Nc6,Nd4,Nxd4,Bxd4,Bb7,Nb3,Rc8,Nc5,Bxc5,Bxc5,Re8,a4,bxa4,Rxa4,Ra8,Qa1,Qc8,Bd4,Qxc2,Bxf6,gxf6,Bxa6,Qc6,Bxb7,Qxa4,Bxa8,Rxa8,Qxf6,Qxb4,g3,Qe4,Rc1,Qg6,Qxg6+,hxg6,h4,Kg7,Kg2,Ra3,Kf3,Ra4,Rc7,Kf6,Kg2,Ra2,Kf3,Ra4,g4,Kg7,Rc2,Rc4', 'Rxc4,dxc4,Ke2', 'https://lichess.org/training/zs9TP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSB0J', 'Blitz', 'soghff', 1845, 'OliverPiansay', 1851, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Be7,Qe2,O-O,O-O,Nxe4,Qxe4,Nf6,Qh4,h6,Bxh6,gxh6,Qxh6,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/ZSB0J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSB6F', 'Rapid', 'guillebourre', 1816, 'Springerschach70', 1761, 'd4,d5,e3,e6,Bd3,Nf6,Nf3,c5,c3,c4,Bc2,Bd6,Nbd2,Qc7,O-O,Ng4,g3,h5,Re1,f6,e4,Nxf2,Kxf2,h4,e5,hxg3+,Kxg3,fxe5,Bg6+,Kd8,Nxe5,Nd7,Nf3,Rf8,Bf4,Nf6,Nf7+,Rxf7,Bxf7', 'Bxf4+,Kg2,Qxf7', 'https://lichess.org/training/zSB6F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSbad', 'Rapid', 'sudhakar_123', 1768, 'Valenzuelaironico', 1767, 'd4,Nf6,c4,d5,Nf3,e6,g3,c5,Bg2,Nc6,cxd5,exd5,O-O,Be6,Nc3,Be7,Re1,O-O,Bg5,Re8,e4,h6,Bxf6,Bxf6,exd5,Bxd5', 'Rxe8+,Qxe8,Nxd5', 'https://lichess.org/training/zSbad');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zsBIM', 'Classical', 'tnys', 1641, 'senolut', 1630, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,O-O,d5,exd5,cxd5,Bb3,Bb7,Bg5,Be7,Bxf6,Bxf6,Ba4+,Ke7,Nc3,d4,Ne2,Qd5,f3,Rhd8,Re1,Bh4,Nf4,Qd6,g3,Bg5,Nd3,f6,h4,Be3+,Kf1,e4,Nf4,exf3,Qd3,Ba6,Bb5,Bxb5,Qxb5,f2,Red1,Rab8,Qh5,Rh8', 'Nd5+,Ke6,Nxe3', 'https://lichess.org/training/zsBIM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZsBNl', 'Rapid', 'abdulqayyum', 2315, 'AcengZ_KabBogor', 2297, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,a6,h3,e6,Nf3,Nf6,O-O,h6,Bf4,Bd6,Ne5,Qc7,Re1,b5,Bg3,Bb7,Nd2,Na5,Qe2,Nc4,Ndf3,Ne4,Bxe4,dxe4,Nd2,Nxe5,dxe5,Bxe5,Nxe4,Bxg3,Nxg3,O-O,Qg4,Kh8,Nh5,f5,Qg6,Bd5,a3,Rae8,Rad1,Bb3,Rd3,Qf7,Nf4,e5,Rde3', 'exf4,Rxe8,Qxg6,Rxf8+,Kh7', 'https://lichess.org/training/ZsBNl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSCbp', 'Rapid', 'Askari303', 1695, 'pr0fe', 1760, 'e4,e5,Bc4,Nf6,Nf3,h6,Nxe5,d5,exd5,Nxd5,Qf3,Be6,Nc3,c6,O-O,Qf6,Qxf6,gxf6,Bxd5,cxd5,Nf3,Rg8,Re1,Kd7,g3,Bb4,d3,Nc6,Bd2,Bg4,Nxd5,Bxd2,Nxd2,Rg6,f3,Be6,c4,Nd4,Rac1,Rc8,b3,Bxd5,cxd5', 'Rxc1,Rxc1,Ne2+,Kf2,Nxc1', 'https://lichess.org/training/zSCbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zsctF', 'Blitz', 'FM tirumpu', 2110, 'Ya_lyublyu_crestbook', 2308, 'd4,Nf6,Nf3,c5,d5,d6,Nc3,g6,e4,Bg7,Bb5+,Bd7,a4,O-O,O-O,Bxb5,axb5,Nbd7,Re1,Ng4,Nd2,Nge5,f4,c4,fxe5,Nxe5,Nf3,Ng4,h3', 'Qb6+,Be3,Nxe3,Na4,Nxd1+', 'https://lichess.org/training/zsctF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSCUV', 'Rapid', 'Patmtrx', 1708, 'kjejohan', 1641, 'e4,e6,e5,d5,d4,c5,c3,Nc6,b3,Bd7,Nf3,f6,Nh4,cxd4', 'Qh5+,g6,Nxg6', 'https://lichess.org/training/zSCUV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSeJe', 'Rapid', 'artsyd', 2153, 'patrickrea', 2118, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,a6,Bxc6+,bxc6,h3,Bf5,O-O,e6,Bf4,Nf6,Nc3,Rc8,Bg5,Be7,Nh4,Bg6,f4,O-O,f5,exf5,Nxf5,Bxf5,Rxf5,c5,dxc5,Rxc5,Bxf6,Bxf6,Nxd5,Bxb2,Rb1,Rb5,c4,Bd4+,Kh1,Rxb1,Qxb1,Re8,Qf1,Qd7,Rf4,Be5,Re4,Bd6,Rg4,Kh8,Rxg7,Kxg7,Qf6+,Kg8,Qg5+,Kh8,Qf6+,Kg8,Qf2,Qe6,Nf6+,Kh8,Nxe8,Qxe8', 'Qf6+,Kg8,Qxd6', 'https://lichess.org/training/ZSeJe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSfBK', 'Rapid', 'AboAsim123', 1601, 'Licaon67', 1694, 'd4,g6,e3,Bg7,g3,d5,Bg2,Nf6,Ne2,O-O,O-O,Nc6,c3,e5,dxe5,Nxe5,Nf4,c6,a4,Bg4,f3,Bf5,e4,Be6,Qd4,Nc4,exd5,cxd5,Re1,Nh5,Nxe6,Bxd4+,cxd4,fxe6,Rxe6,Re8,Rxe8+,Qxe8,Na3,Qe1+,Bf1,Nxg3,hxg3,Qxg3+,Bg2,h5,Bh6,h4,Kf1,h3,Bh1,h2,Bg2,Re8,Nxc4,dxc4,Rc1,Kh7,Bd2,h1=Q+,Bxh1,Qh3+,Bg2,Qe6,Re1,Qf7,Rd1,Rd8,Bc3,Qd7,Kf2,Qxa4,Rh1+,Kg7,d5+,Kf7,Rh7+,Kg8', 'Rh8+,Kf7,Rxd8', 'https://lichess.org/training/zSfBK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zsfGI', 'Blitz', 'Fouad_abdennabi', 2473, 'FM Zorbos', 2535, 'd4,Nf6,Nf3,e6,Bf4,c5,e3,Qb6,Nbd2,d5,Bd3,c4,Be2,Qxb2,O-O,Nc6,Ne5,Nxe5,Bxe5,Be7,e4,O-O,exd5,exd5,Bf3,Be6,Rb1,Qxa2,Rxb7,Rfe8,g4,Qa6,Rxe7,Rxe7,Bxf6,gxf6,Re1,Rae8,Nf1,Kg7,Ng3,Bxg4', 'Rxe7,Rxe7,Bxg4', 'https://lichess.org/training/zsfGI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSfwA', 'Rapid', 'somunaidu', 1759, 'teofiln', 1688, 'd4,d5,Nc3,e6,Bf4,Nc6,Nf3,a6,e3,Nf6,Ne5,Nxe5,Bxe5,Bb4,Qd2,Ne4,Qd3,f6,Bg3,Bd7,a3,Bb5,Qd1,Nxc3,Bxb5+,axb5,Qh5+,g6,Qh6,Ne4+,Ke2,Bf8,Qh3,f5,Be5,Rg8,Qxh7,Qg5,Qxg8,O-O-O,Qxe6+,Kb8,Qf7,Bd6,Bxd6,Rxd6,Rhg1,Rc6,c3,Ka7,Qxd5,Rd6,Qxb5,Rc6,Qa4+,Kb8,Qd1,Rxc3,Qa4,Rc6,d5,Rb6,Rab1', 'Rxb2+,Rxb2,Nc3+,Kf3,Nxa4', 'https://lichess.org/training/ZSfwA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSGAU', 'Rapid', 'goldenboar', 1846, 'tequilla', 1815, 'e4,e5,Nf3,d5,Nxe5,dxe4,d3,Bc5,dxe4,Qxd1+,Kxd1,Bxf2,Bc4,Nh6,Bxh6,gxh6,Rf1,Bd4,Nxf7,O-O,Nxh6+,Kg7,Nf5+', 'Bxf5,exf5,Bxb2', 'https://lichess.org/training/zSGAU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZsGFP', 'Rapid', 'End2End', 1623, 'donbass1488', 1670, 'e4,e5,Nf3,Nc6,c3,Nf6,Bd3,Bc5,O-O,d6,h3,h5,Qb3,Be6,Qxb7,Ne7,Bb5+,Bd7,Bxd7+,Nxd7,d4,Bb6,dxe5', 'Nc5,Qxa8,Qxa8', 'https://lichess.org/training/ZsGFP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zsgK5', 'Rapid', 'ncksss1', 1603, 'ndobs', 1618, 'e4,Na6,d4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,h6,Nf3,Bd7,Ne5,e6,Qe2,Bd6,Nd5,c6,Bxa6,cxd5,Bxb7,Rb8,Bxd5', 'Qa5+,Bd2,Qxd5', 'https://lichess.org/training/zsgK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zsgpJ', 'Blitz', 'bigthebig', 1575, 'Gamecraft', 1579, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,h6,c3,a6,Ba4,b5,Bb3,d6,d4,exd4,cxd4,Bg4,d5,Ne5,Nbd2,N7g6,h3,Nxf3+,Nxf3,Bd7,Re1,Be7,e5,dxe5,Nxe5,Nxe5,Rxe5,O-O,Be3,Bd6,Re4,f5,Rd4,Qf6,Bf4,Bc5,d6+,Kh8,Rd5,cxd6,Bxd6,Bxd6,Rxd6,Be6,Rxe6,Qxb2,Rb1,Qc3,Rc1,Qb4,Rc7,Rfe8,Rxe8+,Rxe8,Qd7', 'Re1+,Kh2,Qf4+,g3,Qxf2#', 'https://lichess.org/training/zsgpJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zsHEf', 'Rapid', 'Evgeny_Pustyryov', 1978, 'el_perro_orfeo', 2042, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Be3,Bg7,Nc3,Nf6,Be2,O-O,Qd2,d5,Nxc6,bxc6,exd5,Nxd5,Nxd5,cxd5,c3,Re8,O-O,e5,Rfd1,Be6,Bb5,Bd7,Bxd7,Qxd7,Qxd5,Qa4,h3,Rab8,b3,Qa6,Qd3,Qa3,Qc2,Rec8,c4,a5,Rab1,f5,Qb2,Qe7,Bd2,a4,Bc3,Rxc4,Rd5,a3,Qd2,Re4,Rd1,Qc7,Rd8+,Rxd8,Qxd8+,Qxd8,Rxd8+,Kf7,Rd7+,Kf6,Ra7,Bf8,Rxh7,Re2,Rh8,Bg7,Ra8,Rxa2,Bb4,Ra1+,Kh2,a2,g3,f4,g4,Kg5,Ra5,Kh6,Bc3,Rc1,Bb2,Rc2,Rxa2,Rxf2+,Kg1,Rc2,b4,Kg5,b5,e4', 'Bf6+,Bxf6,Rxc2', 'https://lichess.org/training/zsHEf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZsHFH', 'Rapid', 'aitorzalla', 1894, 'Ahmed_El_Shahawy', 1897, 'e4,e5,Nf3,Bc5,d4,exd4,Nxd4,c6,Be3,Nf6,f3,Qb6,b3,d5,exd5,Nxd5,Bf2,O-O,Be2,Bf5,O-O,Re8,Nxf5,Bxf2+,Rxf2,Nf4,Bf1,Nd7,Nd2,Re5,Ng3,Rae8,Nde4,f5,Qxd7,Rd8,Qxd8+,Qxd8,Nc3', 'Qd4,Rd1,Qxc3', 'https://lichess.org/training/ZsHFH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSiNb', 'Classical', 'nikolicmomir', 1884, 'harekat', 1897, 'd4,e6,c4,d5,e3,Nf6,Nc3,Bb4,a3,Be7,Nf3,c5,cxd5,exd5,Bb5+,Nc6,Ne5,O-O,Nxc6,bxc6,Bxc6,Rb8,Qa4,Bb7,Bxb7,Rxb7,dxc5,Bxc5,b4,Bb6,Bb2,d4,Rd1,Rd7,Ne2,d3,Nd4', 'Bxd4,Bxd4,Rxd4', 'https://lichess.org/training/ZSiNb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZsjHM', 'Blitz', 'FM woodhy', 2184, 'DanPach', 2358, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Be3,Qb6,Qd2,cxd4,cxd4,Nge7,Nf3,Nf5,Be2,Nxe3,fxe3,f6,exf6,gxf6,Nh4,Bh6,Bh5+,Ke7,Qc3,e5,Qa3+,Qb4+,Nc3,Qxa3,bxa3,Be6,dxe5,fxe5,Nxd5+,Bxd5,Nf5+,Kf6,Nxh6,Kg5,Bf7,Bxg2,Rg1,Kxh6,Rxg2,Rad8,Rb1,b6,Rc1,Ne7,Rc4,Nf5,e4,Ne3', 'Rc6+,Rd6,Rxd6#', 'https://lichess.org/training/ZsjHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zsk2S', 'Rapid', 'ayhan1394', 1777, 'cactus273', 1779, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Bc4,Nxe4,Qe2,Nd6,Nxe5,Nxc4', 'Nxc6+,Be7,Nxd8', 'https://lichess.org/training/Zsk2S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSKBR', 'Rapid', 'mazorra', 1848, 'leanderdg', 1814, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Qf3,Be6,Bb3,c6,Nc3,Nxc3,bxc3,Qd7,Ne2,Bd6,h3,O-O,g4,Na6,Qg2,Nc5,Ng3,Nxb3,cxb3,a5,c4,Bb4+,Bd2,Bxd2+,Kxd2,Qd6,Ne4,Qb4+,Kc2,a4,g5,axb3+,axb3,Bf5,Nf6+,gxf6,gxf6+,Bg6,h4,Rxa1,Rxa1,Kh8,h5,Rg8,hxg6,fxg6,Rh1,Qa3,f7,Qa2+,Kc3,Qa5+,Kb2', 'Qd2+,Kb1,Qxd3+', 'https://lichess.org/training/ZSKBR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZsKi4', 'Rapid', 'erish', 1663, 'sandeepdhillo', 1769, 'd3,e5,Nd2,d5,c4,d4,Ngf3,c5,g3,Nc6,Bg2,Nf6,O-O,Bd6,b3,O-O,Bb2,Be6,Re1,h6,e3,Qd7,exd4,cxd4,a3,Bh3,b4,b6,b5,Ne7,Nxe5,Bxe5,Rxe5,Bxg2,Kxg2,Ng6,Re1,h5,Nf3,h4,Bxd4,hxg3,hxg3,Ng4,Rh1,Rae8,Bb2,N4e5,Bxe5,Nxe5,Nxe5,Rxe5,Qf3,Rf5,Qg4', 'Rxf2+,Kxf2,Qxg4', 'https://lichess.org/training/ZsKi4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zsMCa', 'Rapid', 'Highlander-888', 1852, 'Zugzwang1964', 1916, 'd4,d5,c4,e6,Nc3,c6,e3,Nf6,Nf3,Nbd7,h3,Be7,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,a6,Re1,c5,e4,cxd4,Nxd4,e5,Nf5,O-O,Qf3,Bb4,Re2,Nc5,Bc2,Ba5,a3,Bb6,b4,Ne6,Be3,Bxe3,Qxe3,Rc8,Rd1,Qc7,Nd5,Bxd5,exd5,Nf4,d6', 'Nxe2+,Qxe2,Qxc2,Qxc2,Rxc2', 'https://lichess.org/training/zsMCa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSMPj', 'Blitz', 'Corsair0', 1695, 'farizky12', 1642, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,e5,Nf3,Nc6,Nc3,Nf6,Bg5,Be7,Bc4,O-O,O-O,a6,Be3,b5,Bb3,b4,Nd5,Nxe4,Nxe7+,Nxe7,Nxe5,Bb7,Qf3,d5,Rad1,Ng6,Nxg6,fxg6,Qxe4,Kh8,Bxd5,Bxd5,Rxd5,Qf6,Bd4,Qc6,Qe5,Rf7,c3,Re8,cxb4,Rfe7,Qd6,Qb7,Bc5,Qb5,Bd4', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/zSMPj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSMrm', 'Classical', 'ChessQueenElzette', 1838, 'MagicalgirlSaphire', 1752, 'e4,e6,d4,d5,Nc3,Bb4,Bd3,c5,Be3,Qc7,Nf3,Ne7,a3,Bxc3+,bxc3,c4,Be2,Nbc6,e5,Nf5,O-O,O-O,Ng5,Nce7,Bh5,Ng6,Qg4,Qe7,Qh3,h6,Nf3,Bd7,a4,Be8,Bc1,Qd8,g4,Nfe7,g5,Nf5,gxh6,Nxh6,Bg5,Qd7,Kh1,Nf5,Rg1,Rc8,Bf6,Nh6,Bxg7,Kxg7,Nh4,Kh7,Nxg6,fxg6,Bg4,Qf7', 'Bxe6,Bd7,Bxd7', 'https://lichess.org/training/zSMrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSMrQ', 'Blitz', 'FM miljac', 2362, 'onearmboxer', 2220, 'c4,e5,Nc3,d6,g3,c6,Bg2,Qc7,d4,f5,dxe5,dxe5,Nf3,Nf6,O-O,Be7,e4,O-O,exf5,Bxf5,Qe2,Nbd7,h3,Rae8,b3,Bb4,Bb2,Bg6,Rad1,a6,Nh4,Bf7,Ne4,a5,Nf5,Nxe4,Bxe4,Bg6,Nh4,Bxe4,Qxe4,Bc5,Ng2,Nf6,Qe2,e4,Bd4,Bd6,c5,Be5,Rfe1,Bxd4,Qc4+,Kh8,Qxd4,Rd8,Qe3,Rde8,Nf4,Qe5,a3,Qf5,Kg2,Re5,b4,axb4,axb4,Nd5,Nxd5,cxd5,Rd4,Qf3+,Qxf3,Rxf3,b5,Rc3,c6,bxc6,bxc6,Rxc6,Rb1,h6,Rb5,Rd6,f4,exf3+,Kxf3,g5,g4,Kg7,Rb7+,Kf6,Rh7,Ke6,Rxh6+,Ke7,Rxd6,Kxd6,h4,Kc5,hxg5,Rxg5,Kf4', 'Rxg4+,Kxg4,Kxd4', 'https://lichess.org/training/ZSMrQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zsmVC', 'Classical', 'Samuelmg35', 1917, 'ApocalypseBio', 1967, 'e4,e5,Nf3,Nc6,Bb5,g6,c3,a6,Ba4,d6,d4,Bd7,O-O,Bg7,Re1,Nge7,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,exd4,Bb3,Be6,Bxe6,fxe6,cxd4,Nxd4,Nd2,Qd7,Rc1,O-O-O,Nc4,Kb8,e5,dxe5,Nxe5,Bxe5,Rxe5,Nec6,Bxd8,Qxd8,Rh5,Rxh5,Qxh5,e5,h4,Qg8,b3,Qd5,Rd1,Qe4,Rd2', 'Qe1+,Kh2,Qxd2', 'https://lichess.org/training/zsmVC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSnaE', 'Classical', 'DrFiravun', 2011, 'Cesare_777', 1966, 'd4,d5,c4,Nf6,Nc3,e6,e3,Bb4,Qc2,c5,a3,Bxc3+,bxc3,O-O,cxd5,cxd4,exd4,Nxd5,Bd3,f5,Nf3,Nd7,O-O,b6,Bc4,Bb7,Re1,Rc8,Bxd5,Bxd5,Ne5,Nxe5,Rxe5,Qh4,Re3,Be4,Qa4,Qe7,Qb3,Bd5', 'Qxd5,exd5,Rxe7', 'https://lichess.org/training/ZSnaE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSNXs', 'Rapid', 'MichaelSLOVE', 1968, 'pokjoz', 1909, 'c4,d5,cxd5,Qd6,Nc3,e6,dxe6,Bxe6,Nf3,Nc6,d4,O-O-O,e3,Nf6,Be2,Ng4,h3,Nh6,O-O,Bxh3,gxh3,Qg6+,Kh1,Rd6,Nh2,Qe6,Bg4,f5,Bf3,g5,d5,Qe5,Qb3,Ne7,Bd2,g4,hxg4,Nxg4,Nxg4,fxg4,Bxg4+,Kb8,f4,Qg7,Rg1', 'Rh6+,Kg2,Qxg4+', 'https://lichess.org/training/zSNXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zsp0y', 'Rapid', 'Kevsra', 1652, 'Guillermosali3', 1667, 'e4,d6,d4,c6,c4,Nf6,Nc3,Qa5,Bd3,Qb6,Nf3,Bg4,d5,cxd5,cxd5,a6,h3,Bh5,Qe2,Nbd7,O-O,Ne5,g4,Bg6,Nxe5,dxe5,Na4,Qb4,Nc3,h5,g5,Nd7,Bd2,Nc5,a3,Nxd3,axb4,Nxb2,Bc1,e6,Qxb2,Rc8,Re1,Be7,f4,O-O,fxe5,Rc4,b5,Rfc8,Ra3,Bxa3,Qxa3,Rxc3,Qe7,Rxh3,dxe6,Rc2,exf7+,Bxf7,g6,Rg3+,Kf1', 'Bc4+,Re2,Bxe2+', 'https://lichess.org/training/Zsp0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZsP70', 'Classical', 'imanmousavi1361', 1831, 'Martinkooo', 1834, 'c3,Nf6,d4,g6,g3,Bg7,Bg2,O-O,Nf3,d6,Na3,Nc6,Bg5,h6,Bd2,e5,dxe5,Nxe5,Nxe5,dxe5,Qc2,c6,Rd1,Qc7,O-O,Bf5,e4,Be6,b3,Rad8,Be3,Qa5,Nb1,Ng4,Bd2,Qb6,h3,Nf6,c4,Rfe8,a3,Bf8,b4,c5,b5,a6,a4,axb5,cxb5,Rc8,Nc3,c4,Be3,Qc7,b6,Qc6,Nb5,Bc5,Na7,Qxb6,Nxc8,Rxc8,Bxc5,Qxc5,Rd2,Kg7,Rc1,Nd7,Rcd1,Nb8,Rd8,Rxd8,Rxd8,Nc6,Ra8,Nd4,Qb2,c3,Qxb7,c2,Qb8,c1=Q+,Kh2,Qc8', 'Qxe5+,Kh7,Rxc8', 'https://lichess.org/training/ZsP70');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSRQx', 'Rapid', 'notgoodatchess24', 1632, 'DonBarrocho333', 1680, 'e4,c5,Bc4,Nc6,Nf3,e6,Nc3,a6,d4,b5,Be2,cxd4,Nxd4,Bc5,Nxc6,dxc6,O-O,Qf6,Be3,Bd6,Bd4,Be5,Bxe5,Qxe5,a3,Nf6,Bf3,Bb7,Re1,Rd8,Qe2,O-O,Red1,c5,Rxd8,Rxd8,Rd1,Rc8,Nb1,Bxe4,Bxe4,Qxe4,Qxe4,Nxe4,f3,Nf6,Nc3,g6,g4,g5,Kg2,Kf8,Rd6,Ra8,b4,Ke7,bxc5,Rc8,Rxa6,Rxc5,Ra7+,Nd7,Ne4,Rxc2+,Kg3,h6,Rb7,f5,gxf5,exf5,Nf2,Rc5,Nd3,Rd5,Nb4,Rc5,Na6,Rc3,Nb8,Rd3,Nc6+,Kd6', 'Rxd7+,Kxd7,Ne5+,Ke6,Nxd3', 'https://lichess.org/training/zSRQx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSRsv', 'Blitz', 'FM PetarBosnjak', 2528, 'Starlei', 2441, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Qe7,Qd1,Nf6,Nc3,d6,Bc4,Be6,Bb3,Nd4,O-O,O-O,Bg5,h6,Be3,Nxb3,axb3,b5,f3,Rfd8,Qe1,Qb7,Qg3,Kh7,Qh4,Ng8,b4,Ne7,f4,exf4,Bxf4,Ng6,Qg3,a5,Bxd6,axb4,Bxb4,Rxa1,Rxa1,Rd2,Rc1,Qb6+,Kh1,Qd4,Qe1,Nf4,Nd5,Re2,Qc3,Qf2,Nxf4,Qxf4,Re1,Qf2,Qg3', 'Rxe1+,Bxe1,Qf1#', 'https://lichess.org/training/zSRsv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zsRtr', 'Blitz', 'arolis', 1937, 'MacLeay', 1943, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Nc6,c3,e5,Nf3,Bg4,Qe2,e4,h3,Bxf3,gxf3,O-O-O,fxe4,Qa5,b4,Bxb4,Bd2,Nxd4,Qg4+,Ne6,Bc4,Rxd2,Bxe6+,fxe6,Qxe6+,Kb8,O-O,Bxc3,Rac1,Bd4,Qf7,Qg5+,Kh1,Rxf2', 'Qxc7+,Ka8,Qc8+,Rxc8,Rxc8#', 'https://lichess.org/training/zsRtr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSS3G', 'Blitz', 'FireWorks', 1848, 'Capitan_Anthony', 1787, 'd4,Nf6,Bf4,e6,e3,d5,Bg3,b6,a3,Bb7,Be2,Nbd7,Nf3,Be7,O-O,O-O,Nbd2,c5,c4,cxd4,exd4,h6,Rc1,dxc4,Bxc4,Rc8,Qb3,a6,Bxe6,fxe6,Qxe6+,Kh8,Ne5,Nxe5,Bxe5,Rxc1,Rxc1,Qd5,Qh3,Ne4', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/ZSS3G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zsSgZ', 'Rapid', 'Corylus', 1822, 'Oxytocinblb', 1882, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,f4,e6,Qf3,Qc7,O-O-O,b6,e5,Bb7,Qg3,dxe5,fxe5,Nxe5,Bxf6,gxf6,Bd3,Bc5,Qg7,O-O-O,Nb3,Nxd3+,Rxd3,Rhg8,Rxd8+,Rxd8,Nxc5,Qxc5,Qxf7,Qe3+,Kb1,Qe5,Qxh7,Bxg2,Rg1,Qd4,Rc1,Bd5,Qa7,Bb7,a3,e5,Rd1,Qc5', 'Rxd8+,Kxd8,Qxb7', 'https://lichess.org/training/zsSgZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSSy1', 'Rapid', 'Mehioch', 2025, 'fedaii', 2067, 'd4,d5,c4,c6,Nf3,e6,g3,Nf6,Bg2,Be7,O-O,b6,b3,Bb7,Qc2,Nbd7,Rd1,O-O,Bb2,dxc4,bxc4,Qc7,Nbd2,c5,e4,cxd4,Nxd4,Bc5,N4b3,Rac8,Rac1,h6,e5,Ng4,Bxb7', 'Bxf2+,Kh1,Qxb7+', 'https://lichess.org/training/zSSy1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZsTHt', 'Rapid', 'AntonelloAiro', 1919, 'magysfarm', 1831, 'd4,g6,c4,Bg7,Nf3,d6,e4,Nf6,Nc3,O-O,Bd3,Nbd7,O-O,c5,d5,Ng4,h3,Nge5,Nh2,Nb6,b3,Nexc4,Bxc4,Bxc3,Rb1,f5,Bh6,Rf7,g4,fxe4,f4,Qe8,Qe2,Bd4+,Kg2,e3,Nf3,e6,Ng5,Re7,f5,exd5,fxg6,Qxg6', 'Rf8#', 'https://lichess.org/training/ZsTHt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zsTop', 'Blitz', 'Destiny78', 1753, 'freelancebebop', 1782, 'e4,e6,Nf3,c5,c4,d5,cxd5,exd5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Qe2+,Be6,Qb5+,Nd7,Be2,Bd6,O-O,O-O,h3,Rfe8,Qd3,Qc6,Ng5,Nf6,Re1,h6,Bf3,Qd7,Nxe6,Rxe6,Rxe6,Qxe6,Bxb7,Rb8,Bf3,Qe5,g3,Nh5,Bxh5,Qxh5,Qxd6,Re8,b4,Re1+,Kg2,Qd1,Qd8+,Kh7,Qd3+,Kg8,g4', 'Rg1+,Kh2,Rh1+,Kg3,Qg1+,Kf4,Qxf2+', 'https://lichess.org/training/zsTop');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zSUaV', 'Classical', 'ifekali', 1814, 'theknugdorf', 1925, 'e4,c5,d4,cxd4,c3,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Qe2,Bc5,Rd1,d6,cxd4,Nxd4,Nxd4,Bxd4,Nc3,a6,Nd5,Bg4', 'Nxf6+,Qxf6,Qxg4', 'https://lichess.org/training/zSUaV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSuIg', 'Classical', 'Meshach', 2008, 'ancillarymary', 2098, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,Qb3,Qe7,Ba3,d6,d4,exd4,O-O,Bb6,Nbd2,Bd7,cxd4,O-O-O,Qc3,f6,e5,fxe5,dxe5,Nxe5,Rfe1,Nxf3+,Nxf3,Qf6,Qb3,Nh6,Bb2,Qg6,Re7,Nf5,Rxd7,Rxd7,Bg8,Kb8,Rd1,Qe8,Be6,g6', 'Bxd7,Qxd7,Bxh8', 'https://lichess.org/training/ZSuIg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZsxX9', 'Rapid', 'gumben1', 1693, 'RadioActiveSeaMen', 1719, 'd4,d5,h3,Bf5,Bf4,Nc6,a3,Nf6,Nf3,e6,e3,Bd6,Ne5,O-O,Bb5,Qe8,Nc3,a6,Ba4,b5,Nxb5,Ne4,Nxd6,cxd6,Bxc6,dxe5,Bxe8,exf4,Ba4,fxe3,fxe3,Ng3,Rg1,h5,c3,h4,Bc2,Rab8,Bxf5,Nxf5,Qd2,Ng3,b4,Rb5,a4,Rb7,a5,Rc8,Rc1,Ne4,Qd3,Rbc7,Qxa6,Rxc3,Rxc3,Rxc3,Ke2,Rc2+,Kf3,Rf2+,Kg4,Kh7,Kxh4,Kh6,Kg4', 'f5+,Kh4,g5#', 'https://lichess.org/training/ZsxX9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSyPB', 'Rapid', 'Vladivor', 1764, 'hharieri', 1755, 'e4,c5,Nc3,Nc6,Bb5,e5,Bxc6,dxc6,d3,Be7,Qf3,Nf6,h3,c4,dxc4,Qd4,Qd3,Qc5,Be3,Qb4,b3,O-O,Ne2', 'Rd8,Qxd8+,Bxd8', 'https://lichess.org/training/ZSyPB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zszdd', 'Classical', 'Jocker21', 1632, 'TerryMckenna', 1649, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Ne5,Bg5,Bb4,f4,h6,fxe5,Bxc3+,bxc3,hxg5,exf6,Qxf6,Qf3,Qe5,g3,d6,Be2,g4,Qf4,Qa5,Kd2,Bd7,Rhf1,f6,Bxg4,Rxh2+,Rf2,Rxf2+,Qxf2,Bxg4,Rb1,O-O-O,Nf5,Qxa2,Rb3,Bxf5,Qxf5+,Kb8,Qd5,c6', 'Rxb7+,Kxb7,Qxa2', 'https://lichess.org/training/zszdd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSZFb', 'Blitz', 'DE099', 1977, 'sherif-alkiza', 1967, 'e4,c5,Nf3,Nc6,d4,cxd4,Be2,e5,O-O,Nf6,c3,dxc3,Nxc3,d6,Bg5,Be7,Nh4,Be6,f4,exf4,Rxf4,O-O,Nf5,Bxf5,exf5,Ne5,Rd4,Rc8,Bxf6,Bxf6,Rxd6,Qc7,Ne4,Be7,Rd2,f6,a3,Kh8,b4,Rcd8,Nc5,Bxc5+,bxc5,Qxc5+,Kh1,Rxd2,Qxd2,h6,Rc1,Qxa3,h3,a6,Rc7,b5,Bh5,b4,Qd6,Rg8,Qe6,Qa1+,Kh2,Nd3', 'Qxg8+,Kxg8,Rc8+,Kh7,Bg6#', 'https://lichess.org/training/ZSZFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSZMC', 'Rapid', 'Lordananas', 1703, 'Imthestorm', 2044, 'Nf3,g6,g3,Bg7,c3,d6,Bg2,e5,d3,f5,e4,Nf6,exf5,a6,fxg6,Be6,Nxe5,dxe5,Bxb7,hxg6,Bxa8,c6,Bg5,Qd7,Bxf6,Bxf6,Na3,Bd5,Rg1,Rxh2,Qe2,Kd8,O-O-O,Bxa2,Nc4,Kc7,Nxe5,Qf5,Nc4,Rxf2,Qe4,Qxe4,dxe4,Bxc4,Rh1,Bb3', 'Rh7+,Kb6,Rb7+,Kc5,Rxb3', 'https://lichess.org/training/ZSZMC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZSzMx', 'Rapid', 'srvrc', 1766, 'Aleksandr_gtn', 1704, 'd4,d5,c4,dxc4,e3,e6,Bxc4,a6,Nf3,Nf6,O-O,Nc6,a3,Be7,Nc3,O-O,Re1,h6,e4,Nh7,Qb3,Ng5,Nxg5,Bxg5,d5,Na5,Qb4,Nxc4,Qxc4,e5,Bxg5,hxg5,Re3,Qd6,Rd1,f6,Ne2,Kf7,Ng3,Kg6,Rc3,Qb6,Qe2,Rh8,Rdc1,Rh4,Rxc7,Bg4,Qc2,Rah8,h3,Bxh3,gxh3,Rxh3,Rc8,Rxg3+,Kf1,Rgh3,Rxh8,Rxh8,Kg2,Rh4,Rd1,Rh8,d6,Rd8,d7,Qc6,Qxc6,bxc6,b4,Kf7,Kg3,Ke7,Kg4,Rxd7,Rxd7+,Kxd7,Kf5,Ke7,Kg6,g4', 'Kxg7,Ke6,Kg6', 'https://lichess.org/training/ZSzMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zt1qA', 'Rapid', 'ChessMasterStream', 1748, 'Exist8', 1772, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Nge7,Be3,d5', 'Nxc6,Nxc6,Bxc5', 'https://lichess.org/training/Zt1qA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zT1tx', 'Rapid', 'Lauci', 1779, 'PANDI1968', 1918, 'e4,c6,Nc3,d5,Nf3,dxe4,Nxe4,Nf6,Nxf6+,gxf6,Bc4,Bf5,d3,e6,Nh4,Bg6,Nxg6,hxg6,Be3,Nd7,Qe2,Qc7,h3,Nb6,Bb3,a6,O-O-O,O-O-O,f3,Nd5,Bf2,Bh6+,Kb1,f5,Bc5,Nf4,Qf2,Bf8,Bb6,Qe5,Bxd8,Kxd8,Rhe1,Qf6,Qb6+,Kc8,d4,Nxg2,Re2,Nf4,Red2,Nd5,Qa5', 'Bb4,Qa4,Bxd2', 'https://lichess.org/training/zT1tx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zT3sJ', 'Rapid', 'ordnance2004', 1972, 'PhucTranVN', 1991, 'e4,e5,Nf3,Nf6,d4,Nxe4,Nxe5,Bb4+,c3,Bd6,Nc4,Qf6,Qe2,Qe6,d5,Qe7,Nxd6+,cxd6,f3,Nf6,Qxe7+,Kxe7,Bc4,Re8,Kf2,h6,Bf4,g5,Re1+,Kd8,Bxd6,Rxe1,Kxe1,a6,Nd2,b5,Be5,Ne8,Bb3,d6,Bg3,Bb7,Ne4,Kd7,Kf2,f5,Nd2,f4,Re1,fxg3+,Kxg3,Nf6,Ne4,Ke7,Nc5+,Kf7,Nxb7,Nbd7,Nxd6+,Kg6,Ne4,Re8,Kf2,Ne5,Rd1,Nxe4+,fxe4,Ng4+,Kf3,h5,h3,Rf8+,Kg3', 'h4+,Kxg4,Rf4#', 'https://lichess.org/training/zT3sJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zt4Wh', 'Rapid', 'cryptic999', 1853, 'ahmedfaroukhameed', 1872, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be6,Be3,Nbd7,Qd2,b5,O-O-O,Qc7,Kb1,Rc8,g4,Be7,h4,b4,Na4,a5,h5,O-O,g5,Ne8,g6,Nef6,h6,d5,gxh7+,Kh8,hxg7+,Kxg7,Bh6+,Kh8,Qg5', 'Qxc2+,Ka1,Qxd1+', 'https://lichess.org/training/zt4Wh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zt5JA', 'Blitz', 'devilghost', 1513, 'StefanAlexandruD', 1685, 'Na3,d5,c4,c6,cxd5,cxd5,Nh3,Nf6,d4,Nc6,Qc2,g6,e3,Bg7,Bd3,O-O,Ng5,Bf5,Bxf5,gxf5,Qxf5,e6,Qc2,Nb4,Qe2,h6,h4,hxg5,hxg5,Ne4,Qh5,Re8,Qh7+,Kf8,g6,Nd3+,Ke2,Ndxf2,Rf1,f5,Bd2,Qg5,Rac1,Rac8,Rxc8', 'Qg4+,Ke1,Qd1#', 'https://lichess.org/training/Zt5JA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zt6Au', 'Classical', 'yeni06', 1830, 'kanoshy', 1750, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,h6,O-O,a6,fxe5,Nxe5,Nxe5,dxe5,Bxf7+,Ke7,b3,Nf6,Ba3+,Kxf7,Qh5+,Kg8,Qxe5,Bxa3,Nxa3,Qd6,Qc3,Qc6,Qg3,Qc5+,Kh1,Nxe4,Qf4,Nf6,Nc4,Be6,Ne5,Bf7,d4,Qd6,c4,b6,c5,bxc5,dxc5,Qxc5,Nxf7,Kxf7,Rac1,Qd6', 'Rxc7+,Qxc7,Qxc7+', 'https://lichess.org/training/zt6Au');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zT8px', 'Rapid', 'Ciclogexan01', 1786, 'kaloev', 1877, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c4,Bg4,c5,e5,Be2,e4,Ng5,Bxe2,Kxe2,h6,Nh3,Qf6,Be3,O-O-O,Nc3,Nge7,a4,Nf5,Rb1,Nfxd4+,Bxd4,Nxd4+,Ke3,Bxc5,b4,Nf5+,Kd2,Bd4,Rc1,Kb8,b5,b6,a5,Bxc3+,Rxc3,d4,Rc6,Rd6,axb6,Rxc6,bxa7+,Kxa7,Qa4+,Kb7', 'bxc6+,Qxc6,Rb1+', 'https://lichess.org/training/zT8px');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZTA4O', 'Rapid', 'HAJNC1', 1905, 'Hualton', 2014, 'e4,c6,Nf3,d5,e5,Bg4,Be2,e6,d4,Bb4+,c3,Ba5,a4,Bc7,a5,Bxa5,O-O,Ne7,h3,Bxf3,Bxf3,O-O,b4,Bc7,Bg5,h6,Bh4,a5,Nd2,Nd7,Re1,axb4', 'Rxa8,Qxa8,Bxe7', 'https://lichess.org/training/ZTA4O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zTcWQ', 'Classical', 'whistlecube', 1788, 'maxivgc', 1947, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Bc4,e6,cxd4,Nc6,Nf3,d6,O-O,Be7,Bd2,O-O,Nc3,Nxc3,Bxc3,dxe5,dxe5,b6,Nd2,Bb7,Ne4,Qxd1,Raxd1,Rad8,Nd6,Bxd6,Rxd6,Rxd6,exd6,Rd8,Rd1,Ne7,dxe7', 'Rxd1+,Bf1,Bc6', 'https://lichess.org/training/zTcWQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZtErf', 'Rapid', 'k2oo2', 1803, 'Lubha', 1701, 'e4,e5,Nc3,Nf6,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,e5,c5,Qd3,Ng4,Bf4,Be7,O-O-O,Nxf2,Qb5+,Qd7,Qxd7+,Bxd7,exd6,Nxd1,Kxd1,Bf6,Nd5,O-O,Bc4,Bc6,Re1,Rad8,g4,Rfe8,Nc7,Rxe1+,Kxe1,Bxb2,Bd3,Bc3+,Ke2,Bd7,Nd5,Bxg4+,Kf2,Bd4+,Kg3,Be6,Bc4,b5,Ne7+,Kh8,Bxb5,Bd7,Bc4,Be6,Bxe6,fxe6,Nc6,Rd7,Kf3,e5,Nxe5,Bxe5,Bxe5,Kg8,Ke4,Kf7,Kd5,Rb7,c4,g6', 'Kc6,Rb8,d7', 'https://lichess.org/training/ZtErf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ztf1i', 'Classical', 'guest5234', 1723, 'S492535', 1641, 'e4,e5,d4,exd4,c3,c5,cxd4,cxd4,Qxd4,Nf6,Bc4,Nc6,Qe3,b6,Nf3,Bc5,Qe2,a6,O-O,Bb7,Bg5,h6,Bh4,g5,Bg3,g4,Nh4,h5,Nc3,Nd4,Qd3,b5,Bd5,Bc6,Bxc6,dxc6,Rfe1', 'Nf3+,gxf3,Qxd3', 'https://lichess.org/training/Ztf1i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zTfCl', 'Rapid', 'murdochess1', 1817, 'CuteTeenyCold', 1811, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,cxd4,cxd4,Bb4+,Nc3,Qa5,Bd2,Nge7,a3,Bxc3,Bxc3,Qb6,O-O,O-O,Rc1,Nf5,Re1,Na5,Bb4,Re8,Bxa5,Qxa5,Qb3,b6,Qb5,Qxb5,Bxb5,Rf8,Rc2,a6,Bc6,Rb8,Ba4,a5,Rec1,b5,Bb3,a4,Ba2,Ba6,Rc6,Ra8,Rb6,h6,Rcc6,Bc8,Rxb5', 'Bd7,Rbb6,Bxc6', 'https://lichess.org/training/zTfCl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ztgm0', 'Rapid', 'shivraj18', 1781, 'raventor', 1773, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,O-O,c3,a6,b4,Bb6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Kg7,Qf3,Rh8,Nd2,d6,Bb3,Rh5', 'Bxf6+,Qxf6,Qxh5', 'https://lichess.org/training/Ztgm0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ztGOb', 'Blitz', 'nrm18', 2436, 'CM ukchessbomber', 2467, 'e4,g6,d4,Bg7,c3,d6,Bd3,c6,f4,e5,fxe5,dxe5,dxe5,Nd7,Nf3,Ne7,O-O,Qb6+,Kh1,Nc5,Bc2,O-O,Na3,Be6,Be3,a5,Qd4,Qxb2,Qxc5,b6,Qxe7,Rfe8,Rfb1,Qxb1+,Rxb1,Rxe7,Rxb6,Bxa2,Rxc6,Bxe5,Bg5,Ree8,Nxe5,Rxe5,h4,Ree8,Bf6,Rac8,Ra6,Re6,Rxe6,Bxe6,Kg1,Rb8,c4,Rc8,Bd3,Rc6,Bc3,a4,Kf2,Rb6,Bc2,Rc6,Bd3,Rb6,Nb5,f5,e5,Bd7,Ke3,a3,Kd4,a2,Kc5,Rb8,Kd6,Bxb5,cxb5', 'Rd8+,Ke6,Rxd3', 'https://lichess.org/training/ztGOb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZTGP5', 'Blitz', 'Ledark31', 1564, 'Sieteestrellas', 1797, 'd4,e5,e3,d6,c3,Nc6,Bd3,exd4,exd4,Nf6,Ne2,Bg4,O-O,Be7,h3,Bh5,Qc2,O-O,Bg5,Bg6,Bxf6,Bxf6,Bxg6,fxg6,Nd2,Ne7,Rae1,Nf5,Ng3,Nxg3,fxg3,c6,Qb3+,Kh8,Qxb7,Rb8,Qxa7,Rxb2,Ne4,Be7,Rxf8+,Qxf8,Rf1,Qd8,Rf7,d5,Rxe7,Qf8,Nd6', 'Qf2+,Kh2,Qxg2#', 'https://lichess.org/training/ZTGP5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZThoG', 'Rapid', 'bachar196', 1782, 'DanielGutierrez', 1722, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,Be3,Be7,O-O,O-O,f4,e5,fxe5,dxe5,Nf3,Nc6,Bg5,h6,Bxf6,Bxf6,Nd5,Bg4,Be2,Ne7,Nxf6+,gxf6,Qe1,Ng6,Qg3,Bxf3,Qxf3,Qd4+,Kh1,Nf4,c3,Qd2,Bc4,b5,Bd5,Rad8,g3,Nxd5,exd5,Qxd5,Qxd5,Rxd5,Rxf6,Kg7,Raf1,Rd2,R1f2,Rxf2,Rxf2,Rd8,Kg2,Kg6,Kh3,f5,Re2,e4,g4,Rd3+,Kh4,e3,gxf5+', 'Kxf5,Kg3,Ke4', 'https://lichess.org/training/ZThoG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZtHw6', 'Rapid', 'Pref2016', 1942, 'Bobroff', 1814, 'e4,d5,e5,Bf5,d4,f6,f4,fxe5,fxe5,e6,Bd3,Qh4+,g3,Qxd4', 'Bb5+,c6,Qxd4', 'https://lichess.org/training/ZtHw6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zTijN', 'Rapid', 'GSemenov', 1776, 'raja-74_mohan', 1747, 'd4,Nf6,c4,e6,Bg5,Bb4+,Nc3,O-O,a3,Bxc3+,bxc3,b6,Nf3,Bb7,e3,Be4,Be2,c6,O-O,d5,cxd5,cxd5,c4,Nbd7,cxd5,exd5,Bd3,Qc7,Rc1,Qd6,Bxf6,Nxf6,Ne5,Rac8,a4,Rxc1,Qxc1,Bxd3,Nxd3,Qd7,Qa3,Ng4,a5,Qc7,g3,Rc8,axb6,axb6,Rc1,Qd7,Rxc8+,Qxc8,Qd6,h6,Qxd5,Nf6,Qb3,Qf5,Ne5,Ne4,f3,Nd2,Qd5', 'Qb1+,Kf2,Qf1#', 'https://lichess.org/training/zTijN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZTIUH', 'Blitz', 'SHALK84', 1998, 'heikoeale', 1893, 'Nf3,c5,c4,d5,cxd5,Qxd5,Nc3,Qh5,g3,Nf6,Bg2,Bf5,e4,Nxe4,Qa4+,Nc6,Nxe4,e6,O-O,Be7,Nc3,O-O,d4,cxd4,Nb5,Bd3,Nbxd4,Bxf1,Nxc6,bxc6,Kxf1,Rfd8,Be3,Rab8,b3,Bf6,Rc1,c5,Rxc5,Rd1+,Ne1,Qxh2,Qxa7,Rbd8,Bf3,Rxe1+,Kxe1', 'Qg1+,Ke2,Qd1#', 'https://lichess.org/training/ZTIUH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZTIxT', 'Rapid', 'urbin', 1621, 'vishunayak', 1707, 'e4,d5,e5,f6,d4,Bf5,h3,Nc6,Bb5,Qd7,Nc3,a6,Ba4,b5,Bb3,e6,a3,fxe5,dxe5,Nxe5,Nge2,Bd6,O-O,Nf6,f4,Ng6,a4,O-O,axb5,axb5,Rxa8,Rxa8,Nd4,Bc5,Ne2,Re8,Kh1,Bxd4,Nxd4,e5,Nxf5,Qxf5,Bxd5+,Kh8,Bc6,Rf8,Bxb5,exf4,Bd3,Qg5,Bxg6,Qxg6,Rxf4,Qg3,Qf1,Kg8,c3,g5,Rc4', 'Ng4,Qxf8+,Kxf8,Rxg4,Qe1+', 'https://lichess.org/training/ZTIxT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZtKFS', 'Rapid', 'copelli', 1830, 'Nurbol', 1756, 'd4,e6,c4,c6,Nc3,d5,cxd5,cxd5,Nf3,Be7,Qc2,a6,Bf4,Nc6,a3,Nf6,e3,Nh5,Bg3,Nxg3,hxg3,h6,Bd3,Bd7,Rc1,b5,b4,Rc8,Qe2,Bg5,Nh4,Nxd4,Qg4,Nf5,Nxf5,exf5,Bxf5,Bxf5,Qxf5,O-O,O-O,d4,Nd5,Rxc1,Rxc1,dxe3,f4,Bf6,Rc6,Bd4,Kf1,e2+,Kxe2,Re8+,Kf1,Qa8,Ne7+,Kh8,Qd5,Rxe7', 'Rxh6+,gxh6,Qxa8+', 'https://lichess.org/training/ZtKFS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ztkMf', 'Rapid', 'powerlooper', 1806, 'Modestlobster', 1779, 'd4,c5,c4,d6,Nf3,b6,Bf4,g6,e3,Bg7,Nc3,Nf6,Bd3,Bg4,O-O,O-O,Ne4,Nxe4,Bxe4,Nd7,Bxa8,Qxa8,h3,Bh5,g4,Bxg4,hxg4,Qe4,Kg2,Nf6,g5,Nh5,Rh1,Nxf4+,exf4,Qxf4,Qd2', 'Qg4+,Kh2,Qxf3', 'https://lichess.org/training/ztkMf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZTMUu', 'Blitz', 'Donaudampfer', 1731, 'arf71', 1844, 'e4,e5,f4,Nc6,Nf3,Bc5,Bc4,d6,c3,Nge7,d4,exd4,Nxd4,Nxd4,cxd4,Bb4+,Nc3,O-O,O-O,Ng6,Bd2,Qh4,Be1,Qg4,Ne2,c5,Bxb4,cxb4,h3,Qh4,f5,Ne7,Rf4,Qh6,Ng3,Kh8,Qg4,g6,f6,Bxg4,fxe7,Rfe8,Rxf7,Qg5,hxg4,Rxe7,Raf1,Rxf7,Bxf7,Qe3+,Kh1,Qxd4,Bd5,Rb8,Ne2,Qd3,Rf2,Qe3,Kg1,Kg7,Nf4,Kh6,Nh3,Rc8,Kh2,Rc1,g5+,Kg7,Rf7+,Kh8,Rf8+,Kg7,Rf7+,Kh8', 'Rf8+,Kg7,Rg8#', 'https://lichess.org/training/ZTMUu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zTOic', 'Rapid', '2700172', 1919, 'Buernmacker', 1891, 'e4,d6,f4,e5,fxe5,dxe5,Bc4,Nf6,d3,h6,Nf3,Bd6,O-O,c6,Nc3,O-O,Ne2,a5,a3,Nbd7,Ng3,b5,Bb3,Bb7,Nf5,Kh7,Nxd6,Rb8,Nxf7,Qe7,Nh4,Rxf7,Nf5,Qf8,Bxf7,Qxf7,Qf3,Qf8,Be3,Rd8,Qh3,Bc8,Qh4,Re8,Rf2,Re6,Raf1,Bb7,Ng3,Kg8,Nf5,Kh7,Rf3,Bc8,Rg3,Re7,Nxe7,Qxe7,Kh1,Qe8,Rgf3,h5,Bg5,Qg6,h3,c5,g4,c4,Bd2,cxd3,cxd3,Bb7,g5,Nxe4,dxe4,Bxe4,Kh2,Bxf3,Rxf3,e4,Re3,Qd6+,Kh1,Qxd2,Qxh5+,Kg8,Qe8+,Kh7,Rxe4,Qf2,Rg4,Qf3+,Kh2,Qf2+,Rg2,Qf4+,Kh1,Qf1+,Rg1,Qf3+,Kh2,Qf2+,Rg2,Qf4+,Kg1,Qc1+,Kf2,Qxb2+,Qe2,Qd4+,Kg3,Nb6,Qc2+,Kg8,g6,Qe5+,Kh4,Qf4+,Rg4,Qh6+,Kg3,Qe3+,Kg2,Qe6,Qd3,Nd5,Kg1,Qe1+,Kh2,Qf2+,Rg2', 'Qxg2+,Kxg2,Nf4+,Kf1,Nxd3', 'https://lichess.org/training/zTOic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ztqJS', 'Rapid', 'chudoiydo', 1988, 'riki407', 1854, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h6,h5,Be4,f3,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,a6,Ne2,Qb6,b3,c5,Be3,Nc6,Nbc3,Nb4,Qd2,cxd4,Nxd4,Bc5,Na4,Qc7,Nxe6,fxe6,Bxc5,Qxe5+,Kf2,Nc6,Rae1,Qf6,Nb6,Rd8,Nxd5,Rxd5,Qxd5,Nge7,Bxe7,Nxe7,Qe5,Rf8,Qxe6', 'Qxf3+,Kg1,Qf2#', 'https://lichess.org/training/ztqJS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZTREX', 'Rapid', 'Benjamindiesen', 1655, 'carrrlitosss', 1655, 'd3,d5,Nc3,Nf6,Nf3,Nc6,e4,Bg4,Be2,Nd4,Nxd4,Bxe2,Qxe2,dxe4,dxe4,Qxd4,O-O,e6,Qb5+,Qd7,Qxb7,Qc8,Qc6+,Nd7,Bf4,Bd6,e5,Bc5,Rad1,Rb8,b3,Rb6,Qa4,Rb4,Qc6,Rxf4,g3,Rd4,Nb5,Rxd1,Rxd1,Bb6', 'Nd6+,cxd6,Qxc8+', 'https://lichess.org/training/ZTREX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZTrRm', 'Rapid', 'Duhast-vjcheslavich', 2034, 'benjamin-peronneau', 2190, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,Nh4,e5,Nxg6,hxg6,Be3,Nbd7,Bd3,Nd5,Qe2,Nxe3,Qxe3,Qh4,dxe5,Qb4+,c3,Qxb2,O-O,Bc5,Qe4', 'Bxf2+,Rxf2,Qxa1+', 'https://lichess.org/training/ZTrRm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZtSlO', 'Rapid', 'LearningFromNature', 1738, 'MentallyYours', 1721, 'g3,g6,Bg2,Bg7,Nf3,Nf6,O-O,O-O,d4,d5,c3,c6,Ne5,Nbd7,Nxd7,Bxd7,Nd2,Bf5,Re1,Qc7,e4,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Rxe4,Rad8,Qe2,Rfe8,Bg5,f6,Bf4,Qd7,Re6,g5,Bd2,Kf7,Re1,Bf8,Qc4,Qd5,Qxd5,Rxd5,f4,h6,fxg5,hxg5,R6e4,Red8,Rf1,Kg6,Be3,Re8,Kg2,e5,dxe5,Rdxe5,Rxe5,Rxe5,Bd4,Re6,Rf2,Bd6,Rd2,c5,Bf2,b6,c4,Be5,b3,Re7,Rd5,Bc7,Rd2,Be5,Kf3,Bc3,Re2', 'g4+,Kxg4,Rxe2', 'https://lichess.org/training/ZtSlO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zTSYH', 'Rapid', 'mt99', 2021, 'capricornwon', 1741, 'c4,e5,Nc3,Bc5,e3,Nf6,d4,exd4,exd4,Bb4,Nf3,O-O,Be2,Re8,O-O,c6,Bg5,Be7,Re1,d5,Ne5,Ne4,Nxe4,dxe4,Bxe7,Qxe7,Bh5,Bf5,Bxf7+,Kh8,Bxe8,Qxe8,Qb3,b6,c5,Be6,Qg3,Na6,Rxe4,Qh5,Rae1,Nb4,Rh4,Qf5,Rf4,Qc2,Nf7+,Kg8,Nh6+,Kh8,Nf7+,Kg8,Qf3,Nd3,Nh6+,gxh6,Qg3+,Kh8,Rfe4,Nxe1', 'Qe5+,Kg8,Qxe6+', 'https://lichess.org/training/zTSYH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zTV55', 'Rapid', 'musahayri', 1857, 'anotheromer', 1841, 'e4,c5,Nf3,d6,g3,Nf6,Nc3,Nc6,Bg2,Bg4,O-O,e6,h3,Bh5,g4,Bg6,Re1,Be7,d4,cxd4,Nxd4,O-O,a3,h5,g5,Nh7,h4,f6,f4,Qb6,Kh1,e5,Ne6,Rfe8,Nd5,Qa5,b4,Qa4,Nec7,exf4,Nxa8,Rxa8,Bxf4,fxg5,Nxe7+,Nxe7,Bxd6,Qd7,e5,Nf5,Qd5+,Kh8,hxg5,Nxg5,Rad1,Ng3+,Kh2,Qg4,Qxb7,Qh4+,Kg1,Be4,Bxe4,N5xe4,Qxa8+,Kh7,Rxe4,Qh1+,Kf2,Nxe4+,Ke3,Qxd1,Kxe4', 'Qh1+,Kd4,Qxa8', 'https://lichess.org/training/zTV55');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZtWGY', 'Blitz', 'CM Skillcam', 2514, 'Dakshraj_Bole', 2185, 'd4,c6,e4,d5,Nc3,Nf6,e5,Nfd7,f4,e6,Nf3,c5,Ne2,cxd4,Nexd4,Nc6,c3,Qb6,Be2,Bc5,O-O,O-O,Kh1,a6,Bd3,g6,Nb3,Be7,Qe2,Qc7,Be3,b5,Qf2,Bb7,Qg3,Kg7,Qh3,h5,Nh4,Rh8,Nxg6,fxg6,Qxe6,Nf8,Qh3,Re8,f5,Kg8,e6,Bf6,fxg6,Rxe6,Nc5,Rd6,Bf4,Bg7,Bxd6,Qxd6,Nxb7,Qe7,Qf3,Qxb7,Qf7+,Qxf7', 'gxf7#', 'https://lichess.org/training/ZtWGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZTWNC', 'Classical', 'Gustavo_Zaldivar', 1991, 'Keres73', 2189, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d4,exd4,O-O,Bc5,Re1,b5,Bb3,d6,c3,dxc3,Nxc3,O-O,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Ne5,Nd5,Bxf2+,Kxf2', 'Nfg4+,Kg1,Qxg5', 'https://lichess.org/training/ZTWNC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zTXls', 'Rapid', 'Stranio', 1901, 'ol123', 1738, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,Nf3,Nxe4,Be2,g6,O-O,Bg7,Bc4,Qc5,d3,Nd6,Re1+,Kf8,Bb3,Nc6,c3,b6,Be3,Qf5,a3,Bb7,d4,Na5,Ba2,Bxf3,gxf3,Re8,Nd2,Bf6,Bh6+,Bg7,Rxe8+,Nxe8,Be3,Bf6,Ne4,Kg7,Nxf6,Qxf6,Qd2,h6,Re1,Qxf3,Bf4,Qg4+,Kf1,Qh3+,Ke2,Qg4+,f3,Qg2+,Kd1,Qxf3+,Kc1,Nd6', 'Be5+,Kh7,Bxh8', 'https://lichess.org/training/zTXls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zty8Z', 'Rapid', 'randomchamps', 2064, 'geniusa1', 2094, 'e4,d5,exd5,Nf6,Nf3,Qxd5,d4,Bf5,Nc3,Qd8,Bc4,e6,O-O,Bb4,Bg5,O-O,Ne2,c6,Ng3,Bg4,c3,Be7,h3,Bxf3,Qxf3,Nd5,Bd2,Nd7,Rfe1,Bg5,Bxg5,Qxg5,Ne4,Qg6,Bd3,Qh6,a3,e5,Qf5,Nf4,Bc2,Qg6,Ng3,Qxf5,Bxf5,Nf6,dxe5,N6d5,Rad1,g6,Bc2,Ne6,Bb3,Rfd8,Ne4,b6,Nd6,Ndc7,g3,b5,f4,a6,Kf2,c5,c4,Rab8,Re2,Nd4,Re3,bxc4,Bxc4,Rxb2+,Kf1,Rh2,Bxf7+,Kg7,h4', 'Rh1+,Kg2,Rxd1', 'https://lichess.org/training/zty8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ztydd', 'Blitz', 'CM sodabread', 2258, 'Ertau', 2236, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,d6,Nxd4,Be7,Nc3,O-O,Nf5,Nxe4,Nh6+,gxh6,Nxe4,Bf5,Ng3,Bg6,Bxh6,Re8,Qf3,Ne5,Qb3,Nxc4,Qxc4,Bf6,c3,Qd7,Rfe1,c6,Ne4,Bh8,Rad1,d5,Nc5,Rxe1+,Rxe1,Qc7,Qh4,b6,Re7,Qd6,Nd7,Rd8,g3,Bg7,Bxg7,Kxg7,Qd4+,Kg8,Nf6+,Kf8,Rxa7,Qe6,Nd7+', 'Rxd7,Rxd7,Qxd7', 'https://lichess.org/training/Ztydd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZTyyE', 'Rapid', 'pgapaulo', 1910, 'dfcbkmtdbx60', 1959, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Ne2,c5,c3,Nc6,Nf3,Be7,Be3,cxd4,Nexd4,Ndxe5,Nxe5,Nxe5,Be2,Nc6,O-O,Bd7,b4,Bg5,f4,Bf6,a3,Nxd4,cxd4,O-O,Bd3,Qb6,Qd2,g6,Be2,Bb5,Bxb5,Qxb5,Rf3,Rfc8,g4,Rc4,g5,Bg7,Rh3,Rac8,Qf2,Rc2,Qh4,Qe2,Qxh7+,Kf8,Rg3,Bxd4,Bxd4', 'Rc1+,Rxc1,Rxc1#', 'https://lichess.org/training/ZTyyE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ztZDm', 'Rapid', 'Waran4ik', 1866, 'LdaVinci_7891', 1807, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,O-O,Nf6,d4,Ba6,Re1,exd4,e5,Nd5,exd6+,Kd7,dxc7,Qxc7,Nxd4,Bc5,Qg4+,Kd8,Qxg7,Re8,Rxe8+,Kxe8,Qg8+,Bf8,Qxh7,Qe5,Nf3,Qe2,Bd2', 'Qf1#', 'https://lichess.org/training/ztZDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zu1Pb', 'Rapid', 'pollitomaverick', 1994, 'Alekol', 2060, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,c5,Bc4,cxd4,Nxd4,g6,Be3,Bg7,f3,a6,Qd2,h5,O-O-O,Ne5,Bb3,Bd7,Bg5,b5,Kb1,Nc4,Qd3,Ne5,Qe2,Rb8,h3,Qb6,f4,Nc6,Nxc6,Bxc6,e5,dxe5,fxe5,Nh7,Be3,Qc7,Qf2,O-O,e6,f5,Bd4,Bxd4,Rxd4,Nf6,Rhd1,a5,Bd5,b4,Ne2,Bxd5,Rxd5,Nxd5,Rxd5,Rbd8,Nf4,Rxd5,Nxd5,Qd6,c4,Kg7,Qd4+,Rf6,c5,Qxe6,Nxf6,Qxf6,Qxf6+', 'Kxf6,c6,Ke6,c7,Kd7,c8=Q+,Kxc8', 'https://lichess.org/training/Zu1Pb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zu4l2', 'Rapid', 'leohcarvalhor', 1604, 'marcoguerino', 1579, 'e4,e5,Nf3,d6,Bc4,h5,d4,Be6,Bxe6,fxe6,dxe5,d5,exd5,exd5,Nc3,c6,Bg5,Be7,Bxe7,Nxe7,O-O,Na6,a3,Qc7,Re1,O-O-O,e6,h4,Ng5,Nf5,Nf7,h3,g3,d4,Nxd8,Rxd8,Qg4,Ne7,Ne4,c5,Ng5,c4,Nf7,Qc6,Qxh3,d3,cxd3,Rxd3,Ne5,Qd5,Nxd3,cxd3,Rac1+,Nc5,Qh8+,Kc7,Qxg7,Qd6,Rxc5+,Qxc5,Qe5+', 'Qxe5,Rxe5,d2,Kf1,d1=Q+', 'https://lichess.org/training/zu4l2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZUAhR', 'Classical', 'tomsk17', 1784, 'a7md_elbadaly', 1824, 'd4,d5,c4,e6,e3,Nf6,Nc3,c5,Nf3,b6,cxd5,Nxd5,Nxd5,Qxd5,Bb5+,Bd7,a4,Bxb5,axb5,cxd4,Nxd4,Qxg2,Rf1,Bc5,Bd2,Bxd4,exd4,Qe4+,Qe2,Qxe2+,Kxe2,O-O,Rg1,g6,h4,h5,Rac1,Nd7,Rc7,Nf6,Bg5,Nd5,Rb7,Rfc8,Kd3,Rc7,Rxc7,Nxc7,Rc1,Nxb5,Ke4,Nd6+,Ke5,Rc8', 'Kxd6,Rxc1,Bxc1', 'https://lichess.org/training/ZUAhR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zuBKm', 'Blitz', 'GTMchess', 1987, 'lhgranater', 1899, 'c4,Nf6,g3,g6,Bg2,Bg7,Nc3,O-O,Nf3,d6,O-O,c5,d3,Nc6,e4,e5,h3,Nd7,Be3,f5,Ng5,Nf6,f4,h6,fxe5,Nxe5,Nf3,Nxf3+,Bxf3,fxe4,Nxe4,Nxe4,Bxe4,Bxh3,Rxf8+,Qxf8,Bxg6,Qf6,Be4,Qxb2,Rb1,Qe5,Bf4,Qd4+,Kh2,Be6,Rxb7,Qf2+,Bg2,Rf8,Rxa7,Rxf4,gxf4,Qxf4+,Kh1', 'Qh4+,Kg1,Bd4+,Kf1,Qf2#', 'https://lichess.org/training/zuBKm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZUEnm', 'Rapid', 'sakal65', 1892, 'makwah', 1928, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bd3,c6,O-O,Bg4,f3,Bh5,g4,Bg6,Nf5,O-O,g5,Nfd7,h4,f6,f4,Bf7,Nxe7+,Qxe7,Qg4,Be6,f5,Ne5,Qg3,Bd7,Bf4,Nxd3,Bxd6,Qe8,Bxf8,Qxf8,cxd3,Na6,a3,Nc5,d4,Nb3,Rad1,Re8,g6,h6,e5,fxe5,dxe5,Bxf5,Rd7', 'Qc5+,Rf2,Bxd7', 'https://lichess.org/training/ZUEnm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zufww', 'Classical', 'Jarlaxle1', 1685, 'DerTim99', 1696, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,Ne5,Qh4+,Kf1,Nh6,d4,d6,Nd3,f3,Nf4,f5,e5,fxg2+,Kxg2,Bd7,Nc3,Nc6,e6,Bc8,d5,Ne5,Bb5+,Ke7,h3,Rg8,hxg4', 'Rxg4+,Qxg4,Qxg4+', 'https://lichess.org/training/zufww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zui0h', 'Rapid', 'Jarem89', 2103, 'praj1982', 2116, 'd3,d5,e3,c5,g3,e5,Bg2,Nf6,Nd2,Nc6,c3,Be6,Qc2,g6,f4,Bg7,Ngf3,exf4,exf4,O-O,O-O,Qb6,Kh1,c4,d4,Rfe8,Ne5,Bf5,Qd1,Ne4,g4,Nxd2,Qxd2,Nxe5,gxf5,Nd3,fxg6,fxg6,Bxd5+,Kh8,Bxc4,Qc6+,Kg1,Qxc4,b3,Bxd4+,cxd4,Qxd4+,Kg2,Qxa1,Qxd3,Qxa2+', 'Rf2,Qa1,Bb2+,Qxb2,Rxb2', 'https://lichess.org/training/zui0h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zUiLs', 'Rapid', 'giona85', 1657, 'Schachiatella', 1673, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bc5,Bxc6,dxc6,Nxe5,Qd4,Nd3,Nxe4,Qe2,Bf5,f3,O-O,fxe4,Rfe8,Kd1,Bxe4,Nxe4,Rxe4,Qf3,Bd6,c3,Qd5,g3,Rae8,Re1', 'Rxe1+,Nxe1,Rxe1+,Kxe1,Qxf3', 'https://lichess.org/training/zUiLs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZUjBa', 'Rapid', 'rogeriolimasilva', 1740, 'Ben_Peach', 1951, 'Nf3,c5,g3,d5,Bg2,Nf6,d3,b6,O-O,Bb7,c3,g6,Re1,Bg7,d4,O-O,Be3,cxd4,cxd4,Nbd7,Nc3,Rc8,Qd2,Ne4,Nxe4,dxe4,Ng5,Nf6,Rac1,Qd7,Bh3,e6,Rc3,Nd5,Rxc8,Rxc8,Nxe4,Nxe3,Qxe3,Qxd4,Qxd4,Bxd4,Nd6,Rb8,Nxb7,Rxb7,b3,Rc7,e3,Bf6,Re2,Kf8,Bf1,Rc1,h4,Ke7,Kg2,Bc3,e4,Kd6,Re3,Bd4,Rd3,e5,Be2,Rc2,Kf1,Rxa2,Rf3,Ke7,Bc4,f6,g4,Ra1+,Kg2,Re1,Bd5,a5,g5,fxg5,hxg5,Kd6,Rf6+,Kc5,Rf7,Re2,Rc7+,Kb5', 'Bc4+,Kb4,Bxe2', 'https://lichess.org/training/ZUjBa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zUKWe', 'Rapid', 'Trapsta', 1971, 'Vladimir-1957', 2005, 'd4,Nf6,g3,d5,Bg2,e6,Nf3,Nc6,c3,h6,h3,Bd6,O-O,O-O,Nbd2,Nh7,e4,dxe4,Nxe4,Be7,a3,f5,Ned2,Ng5,Nxg5,Bxg5,Nf3,Bf6,Nh2,e5,dxe5,Bxe5,Be3,Kh8,Bc5,Rf6,Qxd8+,Nxd8,Be7,Ne6,Bxf6,Bxf6,Rfe1,c6,Rad1,Kh7,Rd6,Ng5,h4,Nf7,Rdd1,Ne5,f4,Nc4,Re2,Nb6,Nf3,Bd7,Ne5,Be8,Rde1,Bh5,Bf3,Be8,Nd3,Bf7,Nc5,Rb8,a4,Nd5,Nd7,Rd8,Bxd5,Rxd7,Be6,Bxe6,Rxe6,Rd2,R1e2,Rd3,Kg2,Rd1,Re8,Ra1,Rb8,b6,Rb7,Rxa4,Re6,Kg6,Rxc6,Ra2,c4,Rxb2+,Kh3,Kh5,Rxa7,Rc2,Rb7,Bd4,Rd7,Bg1,g4+,fxg4+,Kg3,Rc3+,Kg2,Bc5,Rxg7,Rc2+,Kf1,Kxh4,Rxh6+,Kg3,Rhg6,Kf3,Ke1,Be3,Rd7,Rc1+,Rd1,Rxc4,f5,g3,Rd3,Ke4,Rxe3+,Kxe3,Rxg3+,Kf4,Rg6,b5,Rb6,b4,f6,Ke3,Kf1,Kd3,f7,Rf4+,Kg2,Kc3,Rb7,b3,Kg3,Rf6,Kg4,b2,Kg5', 'Rxf7,Rxf7,b1=Q', 'https://lichess.org/training/zUKWe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZuL92', 'Rapid', 'NewOldLife', 1645, 'antropolog', 1752, 'e4,e5,Nf3,d6,d4,Nd7,dxe5,dxe5,Nc3,Ngf6,Bg5,Be7,Bb5,c6,Ba4,h6,Bh4,Nc5,Qxd8+,Bxd8,Nxe5,Nfxe4,Bxd8,Nxc3,bxc3,f6,Bxc6+,bxc6,Nxc6,Bb7,Na5,Kxd8,O-O-O+,Kc7,Rhe1,Rag8,Re7+,Kb6,Nc4+,Kb5,Nd6+,Kb6,Nc4+,Ka6,Rd6+,Kb5,a4+,Kxc4,Rd4+,Kxc3,Rg4,g5', 'Re3+,Nd3+,Rxd3#', 'https://lichess.org/training/ZuL92');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zUliJ', 'Classical', 'Adbn', 1937, 'Abu-Hamza111', 1695, 'e4,c5,Nf3,d6,Bc4,e6,O-O,a6,a3,b5,Ba2,Bb7,Re1,Nd7,c3,Qc7,d4,Ngf6,d5,e5,Bg5,Be7,Nbd2,Qd8,Nh4,Nxd5,Bxd5,Bxd5,Bxe7,Qxe7,Nf5,Qf6,Nxg7+,Qxg7,exd5,Rg8,g3,Nb6,Ne4,O-O-O,b3,f5,Nd2,Nxd5,c4,Nf4,cxb5,axb5,Qc2,Kc7,Qxf5,Rdf8,Qe4,Nh3+,Kg2,Rxf2+,Kxh3,Rxh2+,Kxh2', 'Qxg3+,Kh1,Qh3#', 'https://lichess.org/training/zUliJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZUMHM', 'Blitz', 'Neodimi', 1959, 'thecurly', 1938, 'd4,Nf6,c4,e6,Nf3,b6,Nc3,Bb7,Qc2,c5,e3,d5,cxd5,exd5,Be2,Nbd7,O-O,Bd6,b3,O-O,Bb2,Ne4,Nxe4,dxe4,Nd2,Qe7,Nc4,Bc7,Rfd1,cxd4,Bxd4,Rac8,Qb2,f6,Rac1,Ne5,Nxe5,Bxe5,Bc4+,Kh8,Bxe5,fxe5,Bd5,Rxc1,Qxc1,Qf6,Bxb7,Qxf2+,Kh1,Qxa2,Bxe4,Qxb3,Bf3,Qa4,Qa1,Qb3,Qxe5', 'Qxd1+,Bxd1,Rf1#', 'https://lichess.org/training/ZUMHM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zunYQ', 'Classical', 'kvv77708', 1688, 'austro', 1612, 'c3,e6,d3,Nf6,g4,Be7,h3,d5,g5,Nfd7,h4,Nc6,Nf3,Nde5,Bg2,Ng4,Qa4,Bd7,Qxg4,e5,Qh5', 'g6,Qh6,Bf8', 'https://lichess.org/training/zunYQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zUoJv', 'Classical', 'jb07boom', 2197, 'Muh4mm4d_4LI', 2068, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,Nge7,Bg5,a6,O-O,f6,Be3,Ng6,Bb3,b5,Nd5,exd5,exd5,Nce5,Nxe5,fxe5,d6,Bb7,f4,exf4,Re1,fxe3,Rxe3+,Be7,Qd4,Qb8,dxe7,Qf4,Rf1,Qxd4', 'Bf7#', 'https://lichess.org/training/zUoJv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZUOUQ', 'Rapid', 'somebody_very_big', 1877, 'ColdComfort', 1989, 'e4,c5,Bc4,Nc6,Nf3,e6,O-O,d6,c3,d5,exd5,exd5,Qe2+,Be7,Bb5,Nf6,Re1,Be6,Ng5,Bg4,f3,Bh5,d3,h6,Nh3,a6,Bxc6+,bxc6,Nf4,Qd6,Nxh5,Nxh5,g4,Nf6,Bf4,Qd7,Nd2,Ra7,Nb3,O-O,Be3,Re8,Bxc5', 'Bxc5+,Nxc5,Rxe2,Nxd7,Rxe1+', 'https://lichess.org/training/ZUOUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zUp7b', 'Blitz', 'IM Odirovski', 2505, 'Darhan99', 2466, 'Nf3,Nf6,d4,g6,Bf4,Bg7,e3,O-O,h3,d6,Bc4,b6,a4,a6,c3,Bb7,Nbd2,c5,O-O,Nbd7,Qb3,d5,Be2,Ne4,Rfd1,Rc8,Bh2,Qe8,Nxe4,dxe4,Nd2,e5,dxc5,Rxc5,Nc4,Qe6,Rd6,Qe7,Rad1,Rc7,Nxb6,Nc5,Qa3,Rb8,Nd5', 'Qxd6,Nxc7,Qxc7', 'https://lichess.org/training/zUp7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zUpN5', 'Classical', 'kcartagena', 1726, 'MrCastillo', 1749, 'e4,c6,d4,d5,e5,c5,Nf3,e6,Nc3,Nc6,Ne2,Nge7,Bg5,Qa5+,c3,Nf5,Bd2,Qb6,Qc2,cxd4,cxd4,Nfxd4,Nexd4,Nxd4,Nxd4,Qxd4,Bc3,Bb4', 'Qa4+,Bd7,Qxb4,Qxb4,Bxb4', 'https://lichess.org/training/zUpN5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zuQdR', 'Classical', 'martinsdarden', 1751, 'cesardebejar', 1783, 'e4,e5,Nf3,Nc6,Bb5,a6,Bc4,Nf6,Nc3,Bc5,Ne2,Bxf2+,Kxf2,Nxe4+,Kg1,d5,Bd3,f5,Bxe4,fxe4,Ne1,O-O,Ng3,Qf6,d3', 'Qf2#', 'https://lichess.org/training/zuQdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zuqol', 'Rapid', 'erena3000', 1929, 'sammyuel', 1826, 'e4,e5,Nc3,Nc6,Nf3,Nf6,a3,Bc5,h3,O-O,d3,h6,Be2,d5,exd5,Nxd5,Nxd5,Qxd5,Be3,Bxe3,fxe3,b6,e4,Qc5,Qd2,Bb7,b4,Qd6,O-O,Rad8,Nh4,Ne7,Nf5,Qd7,Bg4,Bxe4', 'Nxh6+,gxh6,Bxd7', 'https://lichess.org/training/zuqol');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zurGY', 'Rapid', 'StefanArndt', 2352, 'Papierhans', 2279, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,g6,Qb3,dxc4,Bxc4,e6,Nf3,Bg7,O-O,O-O,Bg5,h6,Bh4,g5,Bg3,Nc6,Bd3,g4,Ne5,Qxd4,Nb5,Qb6,Nc4,Qd8,Rad1,Nd5,Bb1,Qg5,Ncd6,a6,Ne4,Qh5,Nbd6,Nd4,Qd3,f5,Nc3,Nb4,Qc4,Nbc6,f4,b5,Qc5,Bd7,Rfe1,Qg6,Bf2,Qf6,g3,h5,Bxd4,Nxd4,Re3,Nf3+,Kg2,h4,Nb7,h3+,Kf2,Rac8,Qd6,Rf7,Nc5,Bc6,Qxe6,Ba8,Qxf6,Bxf6,Nd7,Kg7,Nxf6,Kxf6,Nd5+,Bxd5,Rxd5,Rfc7,Re2,Rc1,Bd3,Rh1', 'Rxf5+,Kg7,Re7+', 'https://lichess.org/training/zurGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZuS3E', 'Rapid', 'hansi_okdk', 1816, 'Cryo426', 1819, 'e3,e5,c4,Nf6,a3,d5,cxd5,Nxd5,h3,Nc6,Nf3,e4,Nh2,Ne5,Be2,Bd6,O-O,O-O,Nc3,Nxc3,dxc3,Bxh3,gxh3,Qg5+,Bg4,f5,f4,exf3,Nxf3', 'Nxf3+,Qxf3,fxg4', 'https://lichess.org/training/ZuS3E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zUvcv', 'Rapid', 'Andremaru', 1888, 'Alejandro_131921', 1889, 'd4,d5,c4,e6,Nc3,c5,cxd5,exd5,Nf3,Nd7,Bg5,Be7,Bxe7,Nxe7,e3,O-O,Bd3,c4,Bxh7+,Kxh7,Ng5+,Kg8,h4,Nf6,h5,Bg4,f3,Bxh5,g4,Bg6,Qe2,Qd6,f4,Bd3,Qh2,Ng6,O-O-O,b5,Qh3,b4,Nh7,bxc3', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/zUvcv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zuveI', 'Blitz', 'Gaufi', 2168, 'arpitjha', 1936, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,c3,Bd6,Ne5,O-O,Nd2,h6,Be2,c5,g4,Bh7,g5,hxg5,Bxg5,Be7,Rg1,cxd4,exd4,Nc6,Bh6,Ne8,Bh5,Nxe5,dxe5,Kh8,Be3,Nc7,Qg4,g6,Bh6,Rg8,O-O-O,gxh5', 'Bg7+,Rxg7,Qxg7#', 'https://lichess.org/training/zuveI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZuvVb', 'Rapid', 'BHUTANESE', 1885, 'anarak82', 1761, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bg4,h3,Bxf3,Qxf3,e6,O-O,Bd6,c4,a6,Bxc6+,bxc6,c5,Bc7,Nc3,Ne7,Bg5,O-O,Rae1,Qd7,b3,Nf5,Be3,Ba5,Rc1,Bxc3,Rxc3,a5,g4,Nh4,Qg3,Ng6,f4,Ne7,f5,exf5,gxf5,Nxf5,Qf4,Nxe3,Rxe3,Rae8,Rg3,Re4,Qg5,g6,Qd2,Qc7,Rgf3,Qd8,Rf4,Qg5+,Kh2,Rfe8,R1f2,f5', 'Rxe4,Qxd2,Rxe8+', 'https://lichess.org/training/ZuvVb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZuX8g', 'Rapid', 'Jessboy72', 1609, 'ringworm89', 1631, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,g6,Bc4,Bg7,Be3,Nf6,f3,O-O,Qd2,Nxd4,Bxd4,e6,Be3,d5,exd5,exd5,Nxd5,Nxd5,Bxd5,Bxb2,c3,Bxa1,O-O,Bxc3,Qxc3,Qxd5,Bh6,f6,Bxf8,Kxf8,Qxf6+,Qf7,Qh8+,Qg8,Qf6+,Qf7,Qh8+,Ke7', 'Re1+,Be6,Qxa8', 'https://lichess.org/training/ZuX8g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZUXHn', 'Rapid', 'SuperG2020', 1870, 'gurka-2020', 1782, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,Nf3,Bg4,h3,Bh5,Be2,Nbd7,d3,e6,Bd2,c6,Ne4,Qc7,Ng3,Bg6,Bc3,Bd6,Nf1,h6,Ne3,Nd5,Bxg7,Nxe3,fxe3,Bg3+,Kd2,Rg8,Bc3,O-O-O,Nd4,Ne5,Bf3,c5,Nb3,Nc4+,Kc1,Nxe3,Qe2,Qf4,Bd2,Qe5,Bxe3,f5,Nxc5,f4,Bxb7+,Kb8,d4', 'Qxe3+,Qxe3,fxe3', 'https://lichess.org/training/ZUXHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zUXq4', 'Rapid', 'SonecaSol', 1631, 'legalmati', 1624, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Bc5,Be3,Nf6,e5,Ne4,Bd3,Ng5,h4,Bxd4,Bxd4,Nc6,Bc3,b6,hxg5,Qxg5,g3,Nxe5,Na3,Bb7,Rh5,Nxd3+,cxd3,Qg6,Nb5,O-O,Qe2,Ba6,Nc7,Bxd3,Qd1,Rac8,Be5,Qe4+,Kd2,Qc4,Rc1,Qe4,Qe1,Qg6,Rh4,f6,Bd6,Rf7,Nxe6,Rxc1,Qxc1,Qg5+,Nf4,Ba6,Qc7,Qa5+,Kc2,h6,Rh1,Qa4+,Kb1', 'Qe4+,Kc1,Qxh1+', 'https://lichess.org/training/zUXq4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZUXQO', 'Rapid', 'Husks', 1876, 'nandi007', 1748, 'e4,g6,Nf3,Bg7,g3,e6,c4,c5,Bg2,Nf6,d3,d6,O-O,O-O,Re1,Nc6,a3,a6,Bg5,Qc7,Nc3,h6,Be3,Nd7,Qd2,Kh7,h4,Nce5,h5,g5,Nxe5,Nxe5,Rf1,f5,f4,Ng4,fxg5,Nxe3,g6+,Kg8,Qxe3,Bd7,exf5', 'Bd4,Qxd4,cxd4', 'https://lichess.org/training/ZUXQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zUyQ9', 'Rapid', 'Kushiro', 1672, 'mihbell', 1740, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c3,c5,Bb5+,Nc6,Bg5,Be7,O-O,O-O,Qc2,h6,Bh4,Ne4,Bxe7,Qxe7,Bxc6,bxc6,Ne5,Bb7,Re1,cxd4,cxd4,Rfc8,Nd3,c5,f3,cxd4,Qa4,Nc5', 'Rxe7,Nxa4,Rxb7', 'https://lichess.org/training/zUyQ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZuyUa', 'Blitz', 'Gameoverlulu', 2236, 'FM renanreis', 2351, 'e4,e6,d4,d5,Nd2,c5,Ngf3,Nc6,exd5,exd5,Bb5,Bd6,Qe2+,Ne7,O-O,O-O,dxc5,Bxc5,Nb3,Bd6,c3,Bg4,h3,Bh5,Qd1,Re8,Be2,Qc7,Re1,Rad8,Nfd4,Bxe2,Rxe2,Ng6,Bd2,a6,Rxe8+,Rxe8,Qf3,Re4,Re1,Qe7,Re3,Nce5,Qe2,Nc4,Nf5,Qe5,Rxe4', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/ZuyUa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZuZcc', 'Classical', 'zangetsu1984', 1675, 'leo7788', 1675, 'e4,e5,Nf3,Nc6,Be2,Nf6,d3,d5,exd5,Nxd5,c4,Nf6,O-O,Bc5,h3,O-O,a3,h6,b4,Bd4,Nxd4,Nxd4,Bb2,Re8,Bxd4,exd4,Bf3,c6,Nd2,Bf5,Nb3,Rc8,Nc5,b6,Nb3,g5,Bh5,Qd7,c5,Bxh3,gxh3,Qxh3,Bf3,Qh4,Kg2,g4,Rh1,gxf3+,Qxf3,Qg5+,Kf1,Kh7,Nxd4,Qe5,Nf5', 'Qxa1+,Kg2,Rg8+', 'https://lichess.org/training/ZuZcc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zuzQM', 'Rapid', 'andreijl', 1754, 'kkatos', 1751, 'd4,d5,c4,e6,Nf3,Nf6,e3,c5,dxc5,Bxc5,cxd5,Qxd5,Qxd5,Nxd5,Bc4,Nb6,Bd3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,O-O,Nc6,Rac1,Bd7,Nc4,Nxc4,Rxc4,Rac8,Rfc1,Rfd8,Be4,Be8,h3,f5,Bb1,h6,Ne5,Ne7,a3,Rxc4,Nxc4,Rc8,Bd3,Bb5,b3,Ba6,Rc2,b5,Nd6,Rxc2,Bxc2,Nd5,Bd3', 'b4,axb4,Bxd3', 'https://lichess.org/training/zuzQM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZV301', 'Rapid', 'PacoGonzalez', 1733, 'Cloiter', 1778, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Ne2,c5,c3,Nc6,O-O,Nge7,Be3,Nf5,Ng3,Nxe3,fxe3,Qb6,b3,Be7,Nd2,O-O,Nf3,Rac8,h3,Rc7,Rac1,Rfc8,Rf2,cxd4,exd4,Nb4,Qd2,Nc6,Qf4,f6,Nh5,fxe5,Nxe5,Nxe5,Qxe5,Bd6,Qxe6+,Kh8,Rf7', 'Bh2+,Kxh2,Qxe6', 'https://lichess.org/training/ZV301');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zv4Ba', 'Rapid', 'ksiazet', 1836, 'Stano24', 1834, 'd4,e6,c4,d5,Nf3,Nf6,Bg5,h6,Bh4,Bb4+,Nc3,c5,e3,b6,a3,Bxc3+,bxc3,cxd4,cxd4,dxc4,Bxc4,O-O,O-O,Bb7,Ne5,Nc6,Qf3', 'Nxe5,Qxb7,Nxc4', 'https://lichess.org/training/Zv4Ba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zv4ML', 'Rapid', 'EOS94', 1687, 'mattologo', 1738, 'e4,e6,d4,c5,c3,Nf6,e5,Nd5,Bc4,Nb6,Bb3,c4,Bc2,d5,Nf3,Nc6,Ng5,Be7,Qg4,h6,Nf3,Bg5,Nxg5,hxg5,Bxg5,Ne7,Na3,Bd7,b3,cxb3,Bxb3,g6,Bf6,Rh5,Rb1,Qc7,Qg3,Nf5,Qf3,Ba4,Bxa4+,Nxa4,Nb5,Qc6,g4,Rh4,gxf5,Re4+,Kd2,exf5,Nd6+,Kd7,Nxe4,dxe4,Qe3,Nb6,Rxb6,axb6,Ra1,Qc4,Qe2,Rxa2+,Rxa2,Qxa2+,Ke3', 'f4+,Kxe4,Qxe2+', 'https://lichess.org/training/zv4ML');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZV4xC', 'Blitz', 'WFM wfAnasta', 2153, 'p2009a', 2194, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,cxd4,cxd4,Qb6,Nf3,f6,exf6,Nxf6,O-O,Bd6,h3,O-O,a3,a5,Rb1,Bd7,Be3,Rae8,Nc3,Qd8,Bc2,Bc8,Qd3,Qe7,Bg5,Qf7,Rfe1,h6,Bh4,g5,Bg3,Bxg3,fxg3,Nh5,Kh2,Qg7,Ne5,Nxe5,Rxe5,Rf5,Rbe1,Rxe5,Rxe5,Rf8,Qe2,Nf6,Re3,Bd7,Rf3,g4,Rf4,gxh3,gxh3,Kh8,Qf3,Be8,Qf2,Bg6,Bd1,Rf7,Nb5,Ne4,Rxf7,Bxf7,Qe3,Be8,Nc3,Qf6,Bg4,Nxc3,bxc3,Bd7,Kg2,Kg7,h4,Kf7,Bh5+,Ke7,Bf3,Kd6,Kf2,Qg6,Qe5+,Ke7,Qe2,Kd6,Qb2,Bc6,Ke3,Qf5,Qd2,Qh3,Qf2,Qf5,Kd2,Qb1,Bd1,Qa2+,Bc2,Ba4,Kd3,Qxa3', 'Qf8+,Kd7,Qxa3', 'https://lichess.org/training/ZV4xC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zV5E5', 'Rapid', 'BcVcB', 1828, 'baronrojo1982', 1854, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,h3,Nge7,Be3,Na5,Qa4+,Bd7,Bb5,c6,Bd3,O-O,Qc2,Rc8,b4,c5,bxa5,cxd4,Qe2,dxe3,axb6,exf2+,Qxf2', 'Rc1+,Ke2,Rxh1', 'https://lichess.org/training/zV5E5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zv5pP', 'Rapid', 'chess2011', 1665, 'AnakNTB', 1633, 'e4,c5,Nf3,Nc6,Nc3,Nf6,g3,e6,d4,cxd4,Nxd4,Nxd4,Qxd4,Be7,Bg2,O-O,O-O,d6,Re1,e5,Qc4,Be6,Qb4,b6,Be3,Ng4,Rad1,f5,h3,Nxe3,Rxe3,f4,gxf4,Rxf4,Nd5,Bxd5,Rxd5,Qf8,Rd2,Qf6,Qb5,Qg6', 'Qd5+,Qf7,Qxa8+', 'https://lichess.org/training/Zv5pP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZV5xu', 'Rapid', 'Zohan7', 1804, 'Rudy2121', 1736, 'e4,e6,d4,d5,e5,c5,c3,c4,b3,b5,a4,cxb3,Qxb3,bxa4,Qxa4+,Bd7,Bb5,Ne7,Ba3,a6,Bxd7+,Qxd7,Qxd7+,Nxd7,Bd6,a5,Nd2,g6,c4,Nf5,Bxf8,Nxd4,Bg7,Rg8,Ra2,Rxg7,cxd5,exd5,Ngf3,Nc6,O-O,Kd8,Re1,Rg8,e6,fxe6,Rxe6,Nb4,Ra1,Nc5,Rd6+,Kc7,Rf6,Rg7,Nd4,Kb7,N2f3,Ne4,Re6,Nd3,Rb1+,Kc7', 'Rc6+,Kd8,Ne6+', 'https://lichess.org/training/ZV5xu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZV8CR', 'Rapid', 'WilburWhateley', 1868, 'journeyvdc', 1848, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,cxd4,Nxd4,d6,Be2,a6,O-O,Nf6,Bf3,e5,Nxc6,bxc6,Bg5,Be7,Qd2,h6,Bh4,Bg4,Bxg4,Nxg4,Bxe7,Qxe7,f3,Nf6,Nd1,O-O,Ne3,g6,Nc4,d5,Ne3,d4,Nd1,Rab8,Qxh6,c5,b3,Qc7,Nf2,c4,Rfc1,cxb3,cxb3,Qb6,Nd3,Qb5,Qd2,Rfc8,Kf2,Nd7,Rxc8+,Rxc8,Rc1,Rxc1,Nxc1,Nc5,b4,Na4,a3,Nc3,Qd3,Qa4,Ne2,Qxa3,f4,Qb3,fxe5', 'Nd1+,Qxd1,Qxd1', 'https://lichess.org/training/ZV8CR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zv9en', 'Rapid', 'davlethan', 1920, 'lustacapulco', 1675, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,c3,c5,d4,cxd4,cxd4,Nc6,dxe5,dxe5,Nc3,O-O,Bg5,Qc7,Bxf6,Bxf6,Nd5,Qd6,a3,Bg4,h3,Bh5,Qd3,Bg6,Rad1,Rad8,Nh2,Be7,Ng4,h5,Nge3,Bg5,b4,Qb8,g3,Ne7,f4,exf4,gxf4,Nxd5,Nxd5,Bh6,f5,Bh7,Qc3,b5,Bb3,Rde8,Qf3,a5,Kg2,axb4,axb4,Qe5,Rde1,Kh8,Qxh5', 'Qb2+,Qe2,Qxb3', 'https://lichess.org/training/zv9en');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZV9Ku', 'Blitz', 'ALF2021', 1892, 'Schlatt1', 1944, 'e4,e6,d4,d5,exd5,exd5,f4,Bd6,Nf3,Bg4,Bb5+,c6,Bd3,Qc7,O-O,Bxf4,h3,Bh2+,Kh1,h5,Qe1+,Ne7,Nxh2,g5,Bxg5,Rg8,Bxe7,Qxe7,Qxe7+,Kxe7,hxg4,hxg4,Nc3,Rh8,Rae1+,Kf8,Kg1,g3,Ng4,Nd7,Bg6,f6,Nxf6,Nxf6,Rxf6+,Kg7,Ree6,Rh6,Rf7+,Kg8,Rxb7,Rf8,Rxc6', 'Rh1+,Kxh1,Rf1#', 'https://lichess.org/training/ZV9Ku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZvAgM', 'Classical', 'never__quit', 1664, 'Yaghoub2019', 1661, 'e4,e5,Nf3,Qf6,Bc4,h6,Nc3,c6,d3,a6,Be3,b5,Bb3,g5,d4,d6,dxe5,dxe5,Qd2,Nd7,h3,Ne7,O-O-O,Ng6,Nh2,Be7,Ng4,Qg7,g3,h5,Nh2,a5,f4,gxf4,gxf4,Nxf4,Bxf4,exf4,a4,b4,Ne2,Bg5,Rhg1,Qh6,Kb1,f3,Qxg5,fxe2,Rde1,Qxg5,Rxg5,Ba6,Rxa5,O-O,Bc4,Bxc4', 'Rg1+,Kh7,Rxh5#', 'https://lichess.org/training/ZvAgM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zvbAw', 'Blitz', 'robinsch', 1676, 'iykmero', 1697, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,Re1,O-O,c3,h6,b4,d6,b5,Na5,Be2,b6,d3,Bd7,c4,Nb7,Nc3,a6,bxa6,Rxa6,c5,Ra8,cxd6,cxd6,Rb1,Nc5,Be3,Qc8,d4,Ncxe4,Nxe4,Nxe4,dxe5,Nc3,Qb3,Rxa2,Bc4,Nxb1,Qxa2,Nc3,Qb3,d5,Bxd5,Ba4,Qc4,b5,Qd3,Nxd5,Qxd5,Rd8,Qe4,Qc3,Rc1,Qb2,Qb7', 'Qxc1+,Bxc1,Rd1+,Ne1,Rxe1#', 'https://lichess.org/training/zvbAw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVCEQ', 'Classical', 'KarpSP', 1666, 'Snowbird1', 1712, 'Nf3,Nf6,Nc3,g6,e4,Nc6,Bc4,Bg7,Ng5,e6,h3,d5,Bb5,d4,e5,dxc3,Bxc6+,bxc6,exf6,Bxf6,Nxf7,cxd2+,Bxd2,Kxf7,Qf3,Ke8,Bc3,Bxc3+,Qxc3,Rf8,O-O,Rb8,Rad1,Qf6', 'Qxc6+,Kf7,Qxc7+,Kg8,Qxb8', 'https://lichess.org/training/zVCEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVE8l', 'Blitz', 'kamil2202', 1777, 'ruso_turisto', 1806, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,c3,Qf6,Be3,Nge7,Nxc6,Bxe3,fxe3,Nxc6,Nd2,d6,Qf3,Qh4+,g3,Qg5,Bb5,Bd7,O-O,O-O,Qf4,Qg6,Bd3,Ne5,Bc2,Bb5,Rfe1,Rae8,a4,Bd7,Rf1,Re6,Qf2,Ng4,Qe2,Re5,Nc4,Rh5,h4,Be6,e5,Qh6,Nd2,Rxe5,e4,Ne3,Rfc1,Bg4,Qf2,f5,exf5,Nxc2,Rxc2,Bxf5,Rcc1,Bh3,Qh2,Bg4,Rf1,Rfe8,Qf2,Re2', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/zVE8l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZvePd', 'Blitz', 'LLYIA', 1501, 'keyvan_volkan', 1712, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Bg4,h3,Bxf3,Qxf3,Nf6,Nc3,O-O,a3,c5,d3,a6,Be3,b5,Bd5,Nxd5,Nxd5,Nc6,Qg3,Bf6,Nxf6+,Qxf6,f4,exf4,Rxf4,Qxb2,Raf1,Ne5,Rh4,Qxc2,Bh6,Ng6,Bxg7,Kxg7,Qg5,Rh8', 'Qf6+,Kg8,Qxf7#', 'https://lichess.org/training/ZvePd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVfd8', 'Rapid', 'CeperaKupoB', 1828, 'YAH80', 1986, 'e4,c5,c3,d5,e5,Bf5,d4,e6,Bd3,Ne7,h3,h5,Nf3,Bxd3,Qxd3,Nf5,O-O,Be7,Bd2,b6,Na3,cxd4,cxd4,a6,Nb1,Nd7,Nc3,Rc8,Rac1,b5,a3,Qb6,Ne2,O-O,Nf4,Rc4,Nxh5,Nxd4,Qe3,Nxf3+,Qxf3,Nxe5,Qg3,Ng6,Bg5,Bc5,Kh1,Rxc1,Bxc1,Rc8,f4,Bd6,Qg4,Qd4,Qf3,Nh4,Qg4,Nf5,Rd1,Qb6', 'Nf6+,Kh8,Qh5+', 'https://lichess.org/training/zVfd8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZvgpU', 'Classical', 'DERLUGOV', 1701, 'neraslapula', 1713, 'e4,e5,f4,exf4,Nf3,Bc5,d4,Bb6,Bxf4,d6,Nc3,Ba5,Bd2,Nc6,d5,Ne5,a3,Bxc3,Bxc3,Qe7,Be2,Nf6,Qd4,Nfd7,O-O,f6,Qf2,O-O,Nd4,c5,Nf5,Qd8,Qg3,Ng6,h4,Nde5,h5,Bxf5,hxg6,Bxg6,Rf4,c4,Bd4,b5,Rh4,a5,Bh5,Bxh5,Rxh5,Nf7,Be3,Ng5,Rf1,Nxe4,Qg4,Ng5,Bxg5,fxg5,Qe6+,Kh8,Rxf8+,Qxf8,Rxg5,Rd8,Rf5,Qe8,Qf7,Qxf7,Rxf7,b4,axb4,axb4,Rb7,b3,cxb3,cxb3,Rxb3,Kg8,Rb7,h6,b4,Kh7,b5,Kg6,b6,Kf6,g3,g5,Rh7,Ke5,Kf2,Kxd5,Rc7,Rb8,b7,Ke6,g4,d5,Rh7,Ke5,Rd7,Ke6,Rg7,Ke5,Ke3,Kd6,Kd4,Kc6,Rh7,Rxb7,Rxh6+,Kc7', 'Rh7+,Kb6,Rxb7+,Kxb7,Kxd5', 'https://lichess.org/training/ZvgpU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZVHwG', 'Rapid', 'joshua129', 1788, 'toma112', 1832, 'e4,e5,Nf3,Bc5,Nxe5,Bxf2+,Kxf2,Qh4+,Kg1,Qxe4,Nf3,Nc6,Qe1,d5,Nc3,Qe7,Nxd5,Qxe1,Nxe1,Kd7,Bb5,a6,Bxc6+,Kxc6,Nc3,Bf5,d3,Nf6,Nf3,Rhe8,Bf4,h6,Kf2,g5,Be3,Ng4+,Kg3,Nxe3,Nd4+,Kd7,Rae1,Bg6,h4,gxh4+,Kxh4,Nf5+,Nxf5,Rxe1,Rxe1,Bxf5,Nd5,Be6,Nf6+,Kc6,Ng4,Rg8,Ne5+,Kb6,Rg1,Rg5,Nf3,Rg7,Kh5', 'Bg4+,Kxh6,Rg6+,Kh7,Bxf3', 'https://lichess.org/training/ZVHwG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zvige', 'Rapid', 'NM chessmachinelive', 1742, 'geisterseher', 2146, 'd4,Nf6,g4,Nxg4,e4,d5,Be2,Nxf2,Kxf2,dxe4,Nc3,Bf5,Bg4,Qd7,Bxf5,Qxf5+,Ke1,Nc6,Be3,O-O-O,h3,Kb8,Qg4,g6,Qxf5,gxf5,Nge2,Rg8,Kf2,Bg7,Rhg1,Nb4,Rac1,Bf6,a3,Nc6,Rxg8,Rxg8,Rg1,Rxg1,Kxg1,e5,dxe5,Bxe5,Bf4,Bxf4,Nxf4,Kc8,Ncd5,Ne5,Ne7+,Kd7,Nxf5,Nc4,b3,Nxa3,Ne3,Nb5,Nfd5,Kd6,Nf6,Ke5,Nxh7,f5,Ng5', 'Kf4,h4,Kxe3', 'https://lichess.org/training/zvige');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZVj6g', 'Bullet', 'Lforssage88', 2212, 'FM arkin', 2161, 'f3,d5,g3,Nf6,Bg2,g6,Nh3,Bg7,Nf2,O-O,O-O,c5,d3,Nc6,e4,b6,Nc3,Bb7,Bg5,dxe4,fxe4,h6,Be3,Nd7,Qd2,Kh7,Rae1,Nde5,Nd5,e6,Nf4,Qd7,c3,Rad8,Rd1,g5,Nh5,Bh8,Bxg5,hxg5,Qxg5,Qe7,Qe3,Rg8,Nh3,Ng4,Qf3,Nce5,Qe2,Ba6,c4,Bb7,Rf4,f5,exf5,Bxg2,Qxg2,Ne3,Qe4,Nxf5,Rxf5,exf5,Qf4,Ng6', 'Ng5+,Qxg5,Qxg5', 'https://lichess.org/training/ZVj6g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVjpp', 'Rapid', 'SetraK', 1733, 'jadharb99', 1809, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bg5,Nc6,Nxc6,bxc6,e5,Qa5+,c3,Qxe5+,Be3,d5,Be2,Bd6,Nd2,O-O,g3,c5', 'Bf4,Qf5,Bxd6', 'https://lichess.org/training/zVjpp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zvk9Y', 'Rapid', 'Abylay888', 1666, 'gogoLSFC', 1615, 'e4,c5,Nf3,d6,Bc4,h6,Nc3,Bg4,d4,cxd4,Qxd4,Nc6,Qd1,Bxf3,Qxf3,Nf6,O-O,Ne5,Qe2,Nxc4,Qxc4,a6,Rd1,g6,e5,b5,Qc6+,Nd7,exd6,e6,Be3,Bg7,Bb6,Qc8,Qc7,Nxb6', 'Qe7#', 'https://lichess.org/training/Zvk9Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZvKD4', 'Rapid', 'SansAvoirVecu', 1831, 'Valera42kem', 1810, 'e4,e5,Nf3,d6,Bc4,Bg4,c3,Qf6,d4,Bxf3,gxf3,a6,Rg1,h6,Qb3,b5,Bxb5+,axb5,Qxb5+,Nd7,Qc6,Qd8,Na3,Ne7,Qc4,Nb6,Qd3,Ng6,Be3,Be7,Rd1,O-O,Bxh6,gxh6,Qe3,Kh7,dxe5,Rxa3,bxa3,Nxe5,Qf4,Bg5,Qf5+,Ng6,e5,Qd7,Rxg5,hxg5,Qxg5,Qe6,f4,Nd5,f5,Qxe5+,Kf1,Kg7,Rxd5,Qxd5', 'f6+,Kg8,Qxd5', 'https://lichess.org/training/ZvKD4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZVl9P', 'Classical', 'Dragan052', 1873, 'cal799', 1918, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bd6,Nc3,Bg4,h3,Bh5,g4,Bg6,Be3,Qd7,Nh4,f6,Nxg6,hxg6,Qf3,O-O-O,O-O-O,Ne7,Kb1,Rh4,Qg3,Rdh8,Ne2,f5,gxf5,gxf5,Qxg7,f4,Bd2,Rxh3', 'Qxh8+,Rxh8,Rxh8+', 'https://lichess.org/training/ZVl9P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZvlCZ', 'Rapid', 'jcb1', 1788, 'alex83', 1719, 'e4,e5,Nf3,d6,d4,f5,exf5,Bxf5,dxe5,Nc6,exd6,Qxd6,Qxd6,Bxd6,c3,O-O-O,Be3,Nf6,Nbd2,Rhe8,Bb5,Bc5,Bxc6,Bxe3,Bxe8,Rxe8,fxe3,Rxe3+,Kf2,Ng4+,Kg3,h5,Rhe1,Rd3,Re8+,Kd7,Rae1,g5,h3', 'h4#', 'https://lichess.org/training/ZvlCZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVLjd', 'Rapid', 'gabrieleud', 1685, 'baris4747', 1662, 'e4,c5,Bc4,e6,b4,d5,exd5,exd5,Bb5+,Bd7,Qe2+,Be7,Nf3,Nf6,Bb2,O-O,bxc5,Re8,O-O,Bxc5,Bxf6,Rxe2,Bxd8,Bxb5,Nc3,Nc6,Nxe2,Bxe2,Rfe1,Rxd8,Rxe2,f6,Rb1,b6,d3,Kf7,c3,d4,cxd4,Nxd4,Nxd4,Rxd4,Rd2,g6,Rb3,a6,Kf1,b5,f3,Bd6,h3,b4,Rc2,a5,Rc6,a4,Rxd6,Rxd6,Rxb4,Rxd3,Rxa4,Rd1+,Ke2,Rd7,Rb4,Ra7,a4,Ke6,Kd3,Kd5,Rb5+,Kc6,Rb4,Kc5,Rc4+,Kd5,Rb4,f5,Rb5+,Kc6,Rb4,Kd5,Kc3,Ra6,Rb5+,Kc6,Kb4,h6,Rc5+,Kd6,Kb5,Ra8,a5', 'Rxa5+,Kxa5,Kxc5', 'https://lichess.org/training/zVLjd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZvM3y', 'Rapid', 'alireza76', 1635, 'Hubbabubah1104', 2064, 'e4,d6,Bc4,Nf6,Qf3,g6,Nc3,Bg7,d4,O-O,Bg5,c6,Nh3,b5,Bd3,Qa5,O-O,h6,Bh4,g5,Bg3,g4,Qf4,gxh3,gxh3,Bxh3,Rfe1,Nh5,Qh4,Nxg3,Qxh3,Nxe4,Nxe4,Qc7,Qf5,Qd7', 'Nf6+,Bxf6,Qh7#', 'https://lichess.org/training/ZvM3y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZVM8J', 'Blitz', 'TheBazwell', 1802, 'nader-sedghi', 1813, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bd3,Bxd3,Qxd3,e6,Nf3,Nh6,Bxh6,Rxh6,Ng5,Be7,f4,g6,O-O,Kf8,Nd2,Kg7,Qf3,c5,c3,Nc6,Nb3,cxd4,cxd4,Qb6,Rad1,Rc8,g4,hxg4,Qxg4,Rch8,f5,exf5,Rxf5,gxf5', 'Ne6+,Kh7,Qg7#', 'https://lichess.org/training/ZVM8J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zvNRD', 'Blitz', 'Vickitaly', 1836, 'toposnupy', 1896, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,cxd5,Nxd5,Nf3,Bg4,Bd3,Bb4+,Nc3,Nxc3,bxc3,Bxc3+,Bd2,Bxa1,Qxa1,Bxf3,gxf3,Qe7+,Be4,O-O,O-O,c6,Kh1,Nd7,Rg1,Nf6,d5,cxd5,Bxd5,Rad8,Bc3,Nxd5,Rxg7+,Kh8,Rg8+,Kxg8', 'Qg1+,Qg5,Qxg5#', 'https://lichess.org/training/zvNRD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVPib', 'Rapid', 'MustafaElAllioui', 1644, 'Matfey', 1918, 'd3,d5,b3,e5,Bb2,Nc6,Nf3,e4,Ne5,Nxe5,Bxe5,Nf6,g3,exd3,Qxd3,Be6,Bb2,Be7,Bg2,O-O,O-O,c6,e4,dxe4,Bxe4,Nxe4,Qxe4,Bd5,Qd4', 'Bf6,Qd3,Bxb2', 'https://lichess.org/training/zVPib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zvrnP', 'Blitz', 'Likaar204', 1743, 'mix018', 1733, 'e4,e5,Bc4,Bc5,Nf3,d6,O-O,h6,c3,Nc6,d4,exd4,cxd4,Bb6,a4,a6,Bd2,Nf6,Nc3,Nxd4,Re1,O-O,b4,Bg4,h3,Nxf3+,gxf3,Bxh3,Kh2,Qd7,Rg1,Bxf2,Bxh6,Bxg1+,Qxg1,Nh5,Nd5,Qe6,Qg5,Qxh6,Rg1,Qxg5,Rxg5,Be6', 'Ne7+,Kh7,Rxh5#', 'https://lichess.org/training/zvrnP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVs5R', 'Rapid', 'Donating', 1794, 'Filipp_S', 1767, 'Nf3,d5,d4,Bf5,Bf4,Nf6,e3,a6,c3,e6,Bd3,Ne4,Qc2,Nd7,Nbd2,Ndf6,Ne5,h6,h3,g5,Bh2,h5,Nb3,b6,f3,Nd6,O-O-O,g4,fxg4,hxg4,hxg4,Bxg4,Nxg4,Nxg4,Bxd6,Rxh1,Rxh1,Qxd6,Qe2,Qg3', 'Rh3,Qf2,Qxg4', 'https://lichess.org/training/zVs5R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zvsEz', 'Rapid', 'bigtony51', 1847, 'M_Breadcrumb', 1853, 'e4,e5,Nc3,Nf6,Bc4,Nc6,d3,Bc5,Bb3,d6,Qf3,Bg4,Qg3,h5,f3', 'h4,Qxg4,Nxg4', 'https://lichess.org/training/zvsEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVT0R', 'Blitz', 'blitz66', 1998, 'NM mkoganov', 2214, 'c4,e6,e4,d5,cxd5,exd5,e5,c5,Bb5+,Bd7,Qe2,Bxb5,Qxb5+,Qd7,Nc3,d4,Nd5,Qxb5,Nc7+,Kd7,Nxb5,a6,Na3,b5,d3,Nc6,f4,f6,Nf3,Re8,O-O,fxe5,fxe5,Nge7,Bg5,Ng6,Rae1,Nb4,e6+,Rxe6,Rxe6,Kxe6,Ne1,Bd6,Nac2,Nxa2,Nf3,a5,Ra1,Nb4,Nxb4,axb4,Ra6,h6,Bd2,Kd5,Rb6,Rb8,Ra6,Nf4', 'Rxd6+,Kxd6,Bxf4+,Kd5,Bxb8', 'https://lichess.org/training/zVT0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zvTit', 'Classical', 'B_Briggs', 1669, 'infasd', 1648, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,Bg4,Be3,e6,Nc3,Qd8,Bb5,Be7,O-O,g5,d5,exd5,Qxd5,Qxd5,Nxd5,O-O-O,Bxc6,Bxf3,Nxe7+,Nxe7,Bxf3,h6,Bxa7,b6,Rad1,g4,Be4,f5,Rxd8+,Rxd8,Ba8,Rd2,Rc1,h5,Kf1,h4,Ke1,Rd4,Rd1,Ra4,Bxb6,Rxa8,Bc5,Ng6,a3,Ra5,b4,Rxa3,Rd3,Rxd3,cxd3,Nf4,g3,Nxd3+,Ke2,hxg3,hxg3,Nc1+,Ke3,Kd7,Kf4,Ke6,Be3', 'Nd3+,Kg5,Nxb4', 'https://lichess.org/training/zvTit');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZvTPm', 'Rapid', 'Gen1962', 1840, 'vvkk71', 1865, 'e4,e6,Nf3,Ne7,d4,Ng6,e5,Nh4,Bd3,Nxg2+,Kf1,Nh4,Bg5,Be7,Bxe7,Qxe7,Rg1,Ng6,Bxg6,hxg6,Nc3,d6,Qd2,Nc6,a3,Bd7,exd6,Qxd6', 'Nb5,Qe7,Nxc7+,Kf8,Nxa8', 'https://lichess.org/training/ZvTPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVu0l', 'Rapid', 'Harold1234', 1972, 'Best01', 1985, 'd4,Nf6,Bf4,d6,e3,h6,c3,g5,Bg3,Bg7,Qd2,a5,Na3,c6,Nf3,Bf5,Bd3,Qd7,e4,Nxe4,Bxe4,Bxe4,Qe3,Bg6,Nc4,O-O,O-O,b5', 'Nb6,Qb7,Nxa8', 'https://lichess.org/training/zVu0l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZvV3G', 'Rapid', 'JATOVARICH', 1746, 'Ciskela', 1804, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,Bg4,Be3,Nc6,h3,Bxf3,Qxf3,e5,dxe5,dxe5,f5,O-O,Bd3,Nd4,Qf1,c5,O-O-O,Qa5,Kb1,a6,Bxd4,cxd4,Ne2,Nd7,fxg6,fxg6,Qe1,Qb6,g4,Nc5,h4,Na4,b3,Rfc8,g5,Bf8,h5,Ba3,hxg6,Rxc2,Bxc2,Rc8,gxh7+,Kh8,Qg3,Qc5,Rd2,d3,Bxd3,Nc3+,Nxc3,Qxc3,g6', 'Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/ZvV3G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVv8v', 'Blitz', 'vikik', 1862, 'ahmedkhamees', 1872, 'e4,Nc6,Nf3,g6,Bc4,Bg7,d3,Nf6,O-O,e6,h3,O-O,Bg5,d5,exd5,exd5,Bb3,h6,Bh4,Be6,Bg3,Qd7,Nbd2,Rac8,Re1,Rfe8,a3,a5,Re2,Nh5,Rb1,Nxg3,fxg3,Bd4+,Nxd4,Nxd4,Rf2,c5,Kh2,Qd6,Nf3,Nf5,Qd2,Qxg3+,Kg1,Nd4,Qxh6,Nxf3+,Rxf3,Qe5,Rbf1,c4,dxc4,dxc4,Ba4,b5,Bxb5,Qxb5,Rf6,Qc5+,Kh1,Qf8', 'Rxg6+,fxg6,Rxf8+,Rxf8,Qxg6+', 'https://lichess.org/training/zVv8v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZvvAT', 'Rapid', 'bustun', 1778, 'Umpolung', 1861, 'e4,a6,d4,e6,Nf3,c5,d5,exd5,Qxd5,Nf6,Qe5+,Qe7,Qxe7+,Bxe7,Nc3,O-O,Bd3,Nc6,e5,Ng4,Bf4,f6,h3,Ngxe5,Nxe5,Nxe5,Bxe5,fxe5,O-O,d6,Nd5,Bd8,c3,Be6,Ne3,b5,Be4,Rb8,b3,Bg5,Nd5,g6,Rad1,Bxd5,Rxd5,Rbd8,Rfd1,Be7,g3,Kg7,Kg2,Rf6,R1d2,h6,h4,g5,hxg5,hxg5,f3,Rdf8,g4,Rh6,Kf2,Rfh8,Ke3,Rh1,Re2,Kf6,Rdd2,Rc1,Rc2,Rhh1,Kd2,Rcd1+,Ke3,d5,Bxd5,Rxd5,Ke4,Rdd1,c4,b4,Ke3,Rd4,Rcd2,Rd1,Rxd1,Rxd1,Rc2,Rd4,Re2,Bd6,Kf2,Rf4,Ke3,Kg6,Rh2,e4,Rd2,Rxf3+,Kxe4,Rf6,Rd5,Be7,Ke5,Rf4,Ke6,Bf6,Rxc5,Bd4,Ra5,Rxg4,Rxa6,Rf4,Kd5+,Bf6,c5,g4,c6,Rf1,c7,Rc1', 'Rc6,Rxc6,Kxc6', 'https://lichess.org/training/ZvvAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVVGp', 'Rapid', 'carslenfanBoy', 1869, 'majid4423', 1861, 'e4,e6,c4,b6,d4,Bb7,Nc3,c6,Be3,d5,e5,c5,Nf3,cxd4,Bxd4,Nc6,cxd5,exd5,Bb5,Bb4,Qa4,Ne7,O-O,Bxc3,bxc3,O-O,Rad1,Nxd4,Rxd4,Nf5,Rd2,a6,Bd7', 'b5,Bxb5,axb5', 'https://lichess.org/training/zVVGp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVvnG', 'Rapid', 'Alessiopapini0902', 1920, 'gangsar', 2058, 'd4,d5,c4,dxc4,Nc3,c6,a4,Bd7,Nf3,b5,e3,e6,axb5,cxb5,Ne5,Bb4,Nxf7,Kxf7,Qf3+,Nf6,Qxa8,a5,Bd2,Re8,Be2,Re7,O-O', 'Bc6,Qxc6,Nxc6', 'https://lichess.org/training/zVvnG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZvW6k', 'Rapid', 'osaydtaqi', 1883, 'bunyamin_112', 1778, 'b3,e5,Bb2,d6,e3,Nf6,Nc3,g6,Nf3,Bg7,Be2,Nc6,d3,Bd7,Qd2,a6,O-O-O,b5,e4,Ng4,Qe1,a5,Nxb5,a4,b4,Qb8,c4,Bh6+,Kb1,a3,Ba1,Ra4,Bc3,Nd4,Nbxd4,exd4,Nxd4,c5,Nb3,O-O,Bxg4,Bxg4,f3,Be6,b5,Bxc4,dxc4,Rxc4,Rc1,Qxb5,Qe2,Bxc1,Rxc1,Rb8,Qd3,Qa4,Qxd6', 'Rxb3+,axb3,Qxb3+,Ka1,Rxc3', 'https://lichess.org/training/ZvW6k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zvwwB', 'Rapid', 'Sam1026', 1826, 'jservi', 1791, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,h3,O-O,Bd3,Nc6,Nde2,Bd7,a3,Rc8,O-O,Re8,f4,e6,Ng3,Bh6,Bd2,Nd4,Kh2,Bg7,Nce2,Nc6,Bc3,Ne7,e5,dxe5,fxe5,Nfd5,Bd4,Nc6,c3,Nxd4,cxd4,Ne3,Qd2,Nxf1+,Rxf1,a6,b3,b5,Qf4,Rf8,a4,Qe7,Ne4,Bc6,Nd6,Rc7,axb5,axb5,Bxb5,Bxb5,Nxb5,Rb7,Nd6,Rxb3,Ng3,f6,Qe4,f5,Qc2,Rfb8,Qc4,Bf8,Rc1,Qd7,d5,Bxd6,dxe6,Qe7,exd6,Qxd6,e7+,Kg7,Qh4,Re8,Re1,Rb7,Qg5,Rbxe7,Rxe7+,Qxe7', 'Nxf5+,Kf7,Nxe7', 'https://lichess.org/training/zvwwB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zVZgf', 'Classical', 'YunusYemez', 1765, 'Georgii_Ryabov', 1746, 'e4,c5,Nf3,Nc6,Bb5,e6,Bxc6,bxc6,O-O,g6,d3,Bg7,Nbd2,d5,e5,d4,Nb3,Qd5,Re1,c4,dxc4,Qxc4,Nbxd4,c5,Nc6,Bb7,Na5,Qb5,Nxb7,Qxb7,Qd6,Rc8,Rd1,Ne7,b3,O-O,Ba3,Rfd8,Qxd8+,Rxd8,Rxd8+,Bf8,Bxc5,Qc7,Bxe7,Qxe7,Rad1,Kg7,R1d7,Qa3,Ng5', 'Qc1+,Rd1,Qxg5', 'https://lichess.org/training/zVZgf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zw10W', 'Classical', 'cyberchess99', 1740, 'nicolas1963', 1789, 'd4,e6,Nf3,c5,d5,Nf6,d6,Qb6,Nc3,Bxd6,e4,Be7,a4,Ng4,Ng5,Nf6,e5,Ng8,Nb5,h6,Nxf7,Kxf7,Bd3,Nc6,Qh5+,Kf8,f4,a6,Bg6,Qd8,Nc3,d6,O-O,Nd4,Ne4,Nf5,Bxf5,exf5,Ng5,Bxg5,fxg5,dxe5,g6,Qf6,Be3,b6,Rf2,Ne7,Rd1,Be6,Rd6,Rb8,Rfd2,Ke8,h4,Nxg6,Qe2,Ke7,Qxa6,Qxh4,Qa7+,Kf6', 'Rxe6+,Kxe6,Qd7+,Kf6,Rd6#', 'https://lichess.org/training/Zw10W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZW2aq', 'Rapid', 'kmlchess84', 2041, 'rojekst', 1993, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,Nbd7,e5,Ne8,e6,fxe6,Bxe6+,Kh8,d5,Nc5,Ng5,Nxe6,dxe6,c6,Nf7+,Rxf7,exf7,Nf6,Bg5,Be6,Bxf6,Bxf6,Ne4,Bxf7,Nxf6,exf6,Qd4,d5,c4,Kg7,cxd5,Bxd5,Rfd1,Qd7,b4,a6,a4,Qf5,Qb6,Qg5,g3,Rf8,Qxb7+,Rf7,Qxa6,Qg4,Qf1,Qxb4,a5,Qe4,f3,Qb4,Qd3,Re7,Qd4', 'Re1+,Kf2,Qxd4+,Rxd4,Rxa1', 'https://lichess.org/training/ZW2aq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZW2tP', 'Rapid', 'Deliverator', 1981, 'Wingy_Flamen', 1893, 'd4,e6,e4,c5,Nf3,d5,e5,Qb6,c3,Ne7,Bd3,c4,Bc2,Ng6,O-O,Bd7,Ng5,Nc6,Qf3,Ngxe5,dxe5,Nxe5,Qe3,Qxe3,Bxe3,f6,Nf3,Nxf3+,gxf3,Bd6,Nd2,g5,b3,cxb3,axb3,a6,c4,Be5,Rad1,d4,Bxd4,Bxd4,Ne4,f5,Rxd4,fxe4,Rfd1,Bc6,fxe4,e5,Rd6,O-O,Kg2,Rf4,f3,g4,fxg4,Rxg4+,Kf3,Rf4+,Ke3,Raf8,Rg1+,Kh8,Rg3,Rf2,Bd3,Rxh2,Re6,Re8,Rxe8+,Bxe8,Rg5,Rh3+,Kd2,Bc6,Rxe5,Rh2+,Kc3,h5,b4,Rh3,Kd4,h4,b5,a5,bxc6,bxc6,Rxa5,Rg3,e5,h3,Be4,Rg4,Ke3,h2,e6', 'Rxe4+,Kxe4,h1=Q+', 'https://lichess.org/training/ZW2tP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zw4fy', 'Rapid', 'Gyoegy', 2076, 'risoreti', 2006, 'd4,Nf6,Bg5,d6,Nd2,Bf5,f3,e5,e4,Bg6,c3,Be7,Nh3,Nbd7,Bc4,O-O,O-O,c5,d5,Nxd5,Bxe7,Nxe7,Nb3,Qc7,Qd2,a6,Rfd1,b5,Be2,c4,Nc1,Nc8,a4,Rb8,axb5,axb5,Na2,Nc5,Nc1,Rd8,Nf2,Ne7,Ng4,d5,exd5,Rxd5,Qe1,Rbd8,Rxd5,Rxd5,Ra8+,Rd8,Rxd8+,Qxd8,Nxe5,Qb6,Nxg6', 'Nd3+,Kf1,Nxe1', 'https://lichess.org/training/zw4fy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZW69a', 'Blitz', 'CM Pyphax', 2371, 'sophiou', 2168, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,Qc2,O-O,e3,b6,Bd3,h6,Bh4,Bb7,Nf3,Nbd7,Ne5,c5,O-O-O,cxd4,exd4,Rc8,Rde1,Nxe5,Rxe5,Bb4,g4,Qd6,g5,hxg5,Rxg5,Ne4,Bxe4,dxe4,Bg3,Qxd4', 'Be5,Qxe5,Rxe5', 'https://lichess.org/training/ZW69a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZW7FH', 'Rapid', 'acalber', 1908, 'Caulfield', 1895, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,f4,O-O,Nf3,c5,dxc5,Nxc5,Qd2,Nc6,O-O-O,a5,Qe3,b6,Bb5,Bd7,g4,Nb4,Kb1,Qe8,Nd4,Nc6,Nxc6,Bxc6,a4,Nxa4,Bxc6,Qxc6,Qd4,Nxc3+,Qxc3,Qxc3,bxc3,Rfc8,Kb2,a4,Ra1,b5,Rhd1,Rc4,Rd4,Rac8,Rad1,Rxc3,R1d2,R8c4,f5,exf5,gxf5,Rxd4,Kxc3,Rxd2,Kxd2,b4,h4,Kf8,h5,h6,Kc1,b3,cxb3,axb3,Kb2,Ke7,Kxb3,Kd7,Kc3,Kc6', 'Kd4,f6,e6', 'https://lichess.org/training/ZW7FH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zw8JF', 'Blitz', 'cavallo-bolso', 1929, 'Don1Geilo', 1866, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,Ne5,Qh4+,g3,fxg3,Qxg4,g2+,Qxh4,gxh1=Q+,Kf2,Nh6,Nc3,Bc5+,d4,Bxd4+,Be3,Bxe3+,Kxe3,Qxa1,Nd5,Qc1+,Kd3,O-O,Nf6+,Kh8,Nxf7+,Rxf7,Bxf7,Nc6,Nh5,Ne5+,Kc3,Qf1', 'Qd8+,Ng8,Qxg8#', 'https://lichess.org/training/Zw8JF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zW9hy', 'Blitz', 'flawless7', 2261, 'Eskendirov', 2424, 'd4,Nf6,c4,e6,Nf3,d5,g3,Be7,Bg2,O-O,O-O,b6,Nc3,Bb7,cxd5,exd5,Ne5,Bd6,Bf4,Nbd7,Qb3,Re8,Nxd5,Nxd5,Bxd5,Bxd5,Qxd5,Bxe5,dxe5,Qe7,Rac1,c5,Rfd1,Nxe5,Bxe5,Qxe5,Qxe5,Rxe5,e3,Kf8,Rd7,Re7,Rcd1,Ke8,R7d6,Rc7,b3,Ke7,e4,Rac8,Kg2,b5,R6d2,c4,bxc4,bxc4,Rc2,c3,Kf3,Ke6,Ke3,f5,exf5+,Kxf5,Rd5+,Kg4', 'f3+,Kh3,Rh5#', 'https://lichess.org/training/zW9hy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwAjv', 'Blitz', 'alejandroivan78', 2174, 'michaelandrewlo', 2060, 'd4,Nf6,c4,c5,d5,b5,Nd2,d6,e4,b4,a3,bxa3,Rxa3,g6,Bd3,Bg7,Ne2,O-O,O-O,Nbd7,f4,a5,Nc3,Ba6,Nf3,Qb6,Qe2,Qb4,h3,Rfb8,e5,Nh5,Qe1,Bh6,e6,Ndf6,exf7+,Kf8,Ng5,Bxc4,Ne6+,Kxf7,Ra4,Bxd3,Rxb4,axb4,Rf3,bxc3,bxc3,Be4,Ng5+,Bxg5,fxg5,Bxf3,Qe6+,Kf8,gxf6,Nxf6,Bh6+,Ke8,gxf3,Rb1+,Kf2,Ra2+,Kg3,Nh5+,Kh4,Ra4+,f4,Nxf4', 'Qc8+,Kf7,Qf8#', 'https://lichess.org/training/zwAjv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zWaZk', 'Rapid', 'BillinNB', 1885, 'OperationDoomsday', 1916, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,O-O,Bd3,e5,Nf5,Bxf5,exf5,Nc6,g4,b5,Qh3,b4,Ne4,Nxe4,Bxe4,f6,Bd5+,Kh8,Rd3,fxg5', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/zWaZk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZwBMb', 'Blitz', 'pablodob', 1584, 'CescPaiva', 1663, 'd4,e5,e3,e4,c4,Ne7,Nc3,Nf5,Nxe4,d5,cxd5,Qxd5,Bd3,Nc6,Nf3,h6,O-O,Be7,Bd2,Bd7,a3,O-O-O,Qa4,Ncxd4,Qxa7,Nxf3+,gxf3,Bc6,Rac1,Nd6,Nc5', 'Qg5+,Kh1,Bxf3#', 'https://lichess.org/training/ZwBMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZWbwl', 'Blitz', 'etceteras', 2104, 'HideMyPrep', 2083, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Nd5,Nf3,Bd6,O-O,O-O,Re1,f5,Nxe5,Qf6,Nf3,g5,c4,Nf4,Bf1,g4,d4,gxf3,Qxf3,Ng6,Qc3,Nb7,Nd2,c5,Nf3,cxd4,Qxd4,Qxd4,Nxd4,Bc5,Ne6,Bxe6,Rxe6,Rae8,Rxe8,Rxe8,Bd2,Ne5,b4,Bd4,Rc1,Ng4,c5,Nxf2,Bc3,Be3,Bc4+,Kf8,Re1,Nd3+,Rxe3,Rxe3,c6,Nd6,Bxd3,Rxd3,Be5,Nc8,c7,Ke7,Kf2,Kd7,a4,Rd2+,Ke3,Rc2,b5,Rxc7,Bxc7,Kxc7,a5,Kd6,Kf4,Kc5,b6,Nxb6,axb6,axb6,Kxf5,b5,Ke4,b4,Kd3,Kd5,g4,Ke5,h4', 'Kf4,g5,Kg4,Kc4,Kxh4,Kxb4,Kxg5', 'https://lichess.org/training/ZWbwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwcNP', 'Rapid', 'Noir735', 1853, 'YehudaB', 1875, 'e4,c5,c3,e6,d4,cxd4,cxd4,d6,Nf3,a6,Nc3,Nf6,Bd3,Be7,O-O,b5,Bg5,Bb7,e5,dxe5,dxe5,Nfd7,Bxe7,Qxe7,Re1,O-O,Be4,Bxe4,Nxe4,Nc6,Nd6,Rfd8,Nb7,Rdb8,Nd6,Ra7,Qd2,Rd8,Rad1,h6,a4,bxa4,Nc4,Ndxe5,Qc3,Rxd1,Rxd1,Nxf3+,Qxf3,Rc7,Qe2,Rd7,Nb6,Rxd1+,Qxd1,Qb4,Nxa4,Na5,h3,Qb3', 'Qd8+,Kh7,Qxa5,Qd1+,Kh2', 'https://lichess.org/training/zwcNP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zWcns', 'Rapid', 'Laberintos', 1841, 'Generalisimus', 1627, 'e4,e5,Nf3,d6,d4,Nc6,Bc4,exd4,Nxd4,Ne5,Bb3,Nf6,Nc3,c5,Nf3,Bg4,O-O,a6,Bf4,c4,Ba4+,b5,Nxb5,axb5,Bxb5+,Nfd7,Bxe5,dxe5,Bxc4,Ra4,Qd5,Qe7,Bb5,Ra5,h3,Bxf3', 'Bxd7+,Qxd7,Qxa5', 'https://lichess.org/training/zWcns');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwD5B', 'Classical', 'goshen2748', 1757, 'Erik_Manukyan', 1654, 'Nf3,e6,c4,c5,Nc3,Nc6,g3,Nf6,Bg2,a6,e4,b5,cxb5,axb5,e5,Ng4,O-O,b4,Ne2,Ngxe5,Nxe5,Nxe5,Bxa8,Ba6,Bg2,h5,Re1,h4,d4,Nd3,Nf4,Nxe1,Qxe1,hxg3,fxg3,cxd4,Bd2,Qb6,Nd5,Qc5,Nxb4,d3+,Kh1,Bd6,Nxa6,Qh5,h4,Qg4,Bf4,Bxf4,gxf4,Qxf4,Qe4', 'Rxh4+,Kg1,Qh2+', 'https://lichess.org/training/zwD5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZWdg3', 'Rapid', 'YungC', 1636, 'libenhurr88', 1638, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Bb4,e3,O-O,a3,Bxc3+,bxc3,b6,Be2,c5,cxd5,Nxd5,c4,cxd4,exd4,Nc3,Qc2,Nxe2,Qxe2,Bb7,Bb2,Nd7,O-O,Rc8,Rac1,Nf6,Rfe1,Re8,Qd3,h6,h3,Qd6,a4,Rcd8,Ba3,Qc6,Qe3,Qxa4,Red1,Ba8,Ne5,Nd7,Nxd7,Qxd7,Ra1,Qb7,Qg3,Qe4,Bb2,Rc8,Re1,Qb7,d5,f6,Bxf6,Rf8', 'Rxe6,Rxf6,Rxf6', 'https://lichess.org/training/ZWdg3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwE4A', 'Bullet', 'FM royalblue04', 1967, 'Aki13', 1857, 'e4,c6,Bc4,e6,e5,d5,exd6,Bxd6,Nf3,Nf6,d4,Nd5,O-O,O-O,a3,b5,Bd3,Ba6,Bxh7+,Kxh7,Ng5+,Kg8,Nc3,Nf6,Re1,Qc7,Re3,Bf4,Rh3,Bxc1,Rxc1,Qf4,Nce4,Bb7,g3,Qf5,Nxf6+,Qxf6,Qh5,Qg6', 'Qh8#', 'https://lichess.org/training/zwE4A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZWFMQ', 'Rapid', 'Vanca93', 1944, 'NimbusClouds', 1937, 'e4,c5,Nf3,d6,Bb5+,Nc6,O-O,Nf6,Re1,e5,d3,h6,h3,Be7,Be3,O-O,Nbd2,a6,Bxc6,bxc6,Nf1,Qc7,Ng3,d5,exd5,cxd5,c4,d4,Bd2,Bd6,Ne4,Nxe4,Rxe4,Bb7,Rg4,Kh8,Qc1,Bxf3,gxf3,Rg8,Bxh6,f5,Rh4,gxh6+,Kh1,Rg7,Qxh6+,Rh7,Qf6+,Qg7,Rxh7+,Kxh7,Qxd6', 'Rg8,Qc7,Qxc7', 'https://lichess.org/training/ZWFMQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwHCK', 'Blitz', 'CM Davigator', 2379, 'amta01', 2398, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,d4,Bd6,Re1,Qh4,g3,Qh3,Be3,Bg4,Qd3,Rae8,Nd2,Re6,a4,Qh5,Qf1,f5,f4,Rfe8,Qg2,Qf7,Bxd5,cxd5,Qxd5', 'Rxe3,Qxf7+,Kxf7,Rxe3,Rxe3,axb5,axb5', 'https://lichess.org/training/zwHCK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwHmI', 'Rapid', 'Carlospcdl', 1807, 'Makc_T', 1872, 'd4,e6,c4,d5,Nc3,c5,e3,Nf6,Nf3,Nc6,Be2,Bd6,O-O,a6,Bd2,Qc7,Rc1,Ne4,cxd5,exd5,dxc5,Nxd2,Qxd2,Bxc5,Nxd5,Qd6,Nc7+,Qxc7,Rxc5,O-O,Ne5,Be6,Nxc6,bxc6,a3,Rad8,Qc2,Rd6,Bxa6,Rfd8,Be2', 'Rd2,Qa4,Rxe2', 'https://lichess.org/training/zwHmI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zWJ1Q', 'Rapid', 'lalitkr', 1742, 'ch_suginami', 1722, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d6,Bg5,Be7,h3,Nd4,Nxd4,exd4,Qf3,O-O,Nd2,c5,Bxf6,Bxf6,O-O,b6,Bd5,Rb8,Nc4,Ba6,Qg3,Bxc4,Bxc4,b5,Bd5,b4,b3,a5,Rac1,Be5,f4,Bf6,Kh1,Bh4,Qg4,Qf6,e5,dxe5,fxe5,Qg5,Qe4,Kh8,Rcd1,f5,Qf3,f4,e6,Rf5,Bc4,Qe7,Qg4,Rbf8,Rf3,h5,Qxf5,Rxf5,Rdf1,g5,g3,Bxg3,Rxg3,fxg3,Rxf5,h4', 'Rf7,Qxf7,exf7', 'https://lichess.org/training/zWJ1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZwJD1', 'Rapid', 'abdolrezakhalifeh', 1664, 'Pinteresting', 1862, 'e4,e6,Bc4,d5,exd5,exd5,Qe2+,Be7,Bb3,Nc6,c3,Nf6,h3,O-O,Nf3,Re8,O-O,d4,cxd4,Nxd4,Qd3,Nxf3+,Qxf3,c6,Nc3,Qc7,a3,Bd6,Ne2,b6,Rd1,Bb7,Kf1,c5,Qf5,Ba6,d3,Rad8,Bh6,gxh6,Qxf6,Be5,Qxh6,Bxd3,Qg5+,Bg7,Re1,Qh2,f4,Rxe2', 'Qxd8+,Re8+,Qxd3', 'https://lichess.org/training/ZwJD1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZWjiK', 'Classical', 'Lotabanks', 1747, 'matcom', 1745, 'e4,c5,Nf3,Nc6,Bb5,g6,a3,Bg7,Nc3,Nd4,Bc4,e6,d3,Ne7,O-O,d5,exd5,exd5,Ba2,O-O,Bg5,f6,Be3,Nxf3+,Qxf3,Kh8,Bxc5,Re8,Rfe1,f5,Rab1,d4,Bxe7,Rxe7,Rxe7,Qxe7,Nd5,Qd6,Re1,Bd7,h3,Bc6,Qf4,Qd8,Nb4,Bd7,Bc4,a5,Na2,b5,Bd5,Rc8,Qd2,Rc7,Qxa5,Qc8,Bb3,Bh6,Qb6,Bg7,Nb4,Rb7,Qd6,Be8,Qd5,Bf7,Qf3,Bxb3,cxb3,Rc7,Qe2,h6,Nd5,Rc2,Qe8+,Qxe8,Rxe8+,Kh7,Rb8', 'Rc1+,Kh2,Be5+,g3,Bxb8', 'https://lichess.org/training/ZWjiK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zWlpB', 'Blitz', 'sonoscacco', 1728, 'NeoVic2006', 1763, 'd4,g6,c4,Bg7,Nf3,d6,Nc3,Nf6,Bg5,b6,e3,a6,Be2,Bb7,O-O,O-O,Qc2,Nbd7,d5,c6,e4,cxd5,exd5,Nc5,Bxf6,Bxf6,b4,Nd7,Rac1,e6,Ne4,Bg7,Nxd6,Qc7,Nxb7,Qxb7,d6,Rac8,Qd3,Rfd8,a3,Nb8,Rfd1,e5,Qe3,e4,Ne1,f5,f3,Re8,c5,exf3,Qxf3,Qd7,Bc4+,Kh8,Bb3,bxc5,bxc5,Nc6,Ba4,Re4,Bxc6,Qxc6,Nd3,a5,Kh1,Bh6,Rb1,Qa4,Nf2,Re3,Qb7,Rce8,d7', 'Qxd1+,Rxd1,Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/zWlpB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZWmaE', 'Rapid', 'zvoneposavec', 1688, 'TreebeardII', 1702, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be2,h5,Bg5,Qd6,Qd2,Bxf2+,Kxf2,Qd4+,Kf3,Bg4+,Kg3,O-O-O,c3,Qe5+,Kf2', 'Nxe4+,dxe4,Rxd2', 'https://lichess.org/training/ZWmaE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwMAl', 'Blitz', 'RokVr', 2485, 'NM jonny_magia', 2363, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Qc2,Re8+,Ne2,h5,Be3,Nd7,O-O-O,Nf8,Rhe1,b5,g3,a5,Bf4,Bg4,Qd2,a4,Kb1,Ne6,Bxd6,Qxd6,Rc1,c5,dxc5,Nxc5', 'Bh7+,Kxh7,Qxd6', 'https://lichess.org/training/zwMAl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZWngN', 'Rapid', 'Aresito', 1939, 'ElAtrida', 1732, 'd4,d5,Bf4,Nc6,e3,a6,Nf3,Nf6,c3,e6,Bd3,Be7,Nbd2,O-O,h3,h6,O-O,Bd6,Be5,Nd7,Qe2,Bxe5,dxe5,Ndxe5,Nxe5,Nxe5,Bc2,Qf6,f4,Ng6,Rf3,e5,fxe5,Qxe5,Qf2,Be6,e4,c6,Re1,Qd6,Rg3,Nf4', 'e5,Qe7,Qxf4', 'https://lichess.org/training/ZWngN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwNLY', 'Blitz', 'dariozac', 1916, 'mustafa-2011', 1945, 'e4,c5,Nf3,Nc6,Bb5,g6,Bxc6,dxc6,d3,Bg7,Nc3,Nf6,Be3,b6,h3,O-O,Qd2,Ba6,O-O-O,Rb8,Bh6,c4,Bxg7,Kxg7,dxc4,Bxc4,Qxd8,Rfxd8,Rd2,Rxd2,Nxd2,b5,f3,Be6,Nb3,Nd7,Nd4,Bc4,Nxc6,Rc8,Nxa7,Rb8,b3,b4,bxc4,bxc3,Nc6,Rb2,Nxe7,Rxa2,Kb1,Rb2+,Kc1,Ne5,Nd5,Nxc4,Nxc3,Rb8,Rd1,Ne3,Rd2,Nc4,Re2,Ra8,Nb1,Ra1,c3,Kf6,Kc2,Ra2+,Kd3,Ne5+,Ke3,Nc4+,Kf2,Ra1,Nd2,Nb2,Nb3,Rb1,Nd2,Ra1,c4,Nd1+,Kg3,Ra2,c5,Ke6,f4,Nc3,Re3,Nd1,Rd3,Nb2,Rd6+,Ke7,Nf3,Nc4,Rc6,Ne3,e5', 'Rxg2+,Kh4,Nf5#', 'https://lichess.org/training/zwNLY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zWoaC', 'Rapid', 'INDrajitnand', 1817, 'Kedr_59', 1854, 'e4,e5,Qf3,Nf6,d3,d6,Be2,Be7,Na3,O-O,Qg3,Kh8,Nh3,Nc6,c3,Be6,O-O,Qd7,Ng5,h6,Nxe6,fxe6,Nc2,Nh7,f4,exf4,Bxf4,e5,Bd2,Bg5,Bxg5,Nxg5,Ne3,Ne6,Nf5,Nf4,Bg4,Qd8,Bd1,Qf6,Nh4', 'Nh3+,Kh1,Qxf1#', 'https://lichess.org/training/zWoaC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZWOFC', 'Rapid', 'LownlyPawn', 1851, 'raaasaad54', 1862, 'd4,d5,Bf4,c6,e3,Nf6,c3,e6,Nf3,Bd6,Ne5,O-O,h3,Bxe5,dxe5,Ne4,Nd2,Nxd2,Qxd2,b5,Bd3,Nd7,Qc2,f5,exf6,Nxf6,Be5,g6,h4,Ng4,Bg3,e5,Bxg6,e4,Bh5,Nf6,Be2,Kh8,Be5,Qe7,Bg3,a5,O-O-O,a4,a3,Bd7,Kb1,c5,f4,Rfc8,h5,b4,Bh4,bxa3,bxa3,Rab8+,Ka1,Kg7,Rxd5,Be6,Re5,Rb3,f5', 'Rxa3+,Kb2,Ra2+', 'https://lichess.org/training/ZWOFC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZWOsQ', 'Rapid', 'alireza3737', 1937, 'PallasHermes', 2159, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Nfg5+,Kg8,Qf3,Qe8,Ng3,e4,N3xe4,dxe4,Qb3+,Be6,Nxe6,Qf7,Nxc7,Qxb3,axb3,Rc8,Nd5,Nd4,Ne3,a6,O-O,Nxc2,Nxc2,Rxc2,Ra4,e3,fxe3,h6,Rc4,Rxc4,bxc4,Bc5,d4,Bb4,b3,Kh7,d5,Kg6,Bb2,Rc8,h3,h5,Bd4,Be7,e4,b5,Rc1,Bf6,Bxf6,Kxf6,Kf2,Ke5,Ke3,bxc4,bxc4,Rc5,g3,a5,Kd3,a4,Ra1,Ra5,Kc3,Ra8,Kb4,Rb8+,Kc5,Rc8+,Kb5,Rb8+,Kc6,Rc8+,Kd7,Rxc4,Rd1,a3,Ke7,Rc7+,Kd8,Ra7,d6', 'a2,Ra1,Kxd6', 'https://lichess.org/training/ZWOsQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zWpAZ', 'Rapid', 'victorcorreiac', 1790, 'Chess-Player001', 1768, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,c3,b5,Bd3,Bf5,Bxf5,Nxf5,f3,Nxd5,Ne4,Qh4+,Nf2,Bc5,d4,exd4,Qe2+,Nde7', 'Qxb5+,c6,Qxc5', 'https://lichess.org/training/zWpAZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwQ7T', 'Classical', 'Morcilla92', 1818, 'martin_09', 1948, 'd4,d5,c4,e5,dxe5,d4,e3,Bb4+,Bd2,dxe3,fxe3,Qh4+,g3,Qe4,Bxb4,Qxh1,Nf3,Bg4,Nbd2,Nc6,Bc3,O-O-O,Kf2,Bxf3,Nxf3,Rxd1,Rxd1,Nh6', 'Bh3+,Kb8,Rxh1', 'https://lichess.org/training/zwQ7T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwQKC', 'Rapid', 'Dirk52', 1792, 'anuragbpvj', 1777, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,O-O,dxc4,exf6,gxf6,Bf4,Be6,Nbd2,Qd7,a3,O-O-O,Ne4,Be7,b4,cxb3,cxb3,Bd5,Ned2,h5,b4,h4,Rc1,Rdg8,Nxh4,Rxh4,Bg3,Rxh2,Kxh2,Rh8+,Kg1,Rh1+,Kxh1', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/zwQKC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwrK2', 'Rapid', 'serqes', 1609, 'IoHanoaN', 1592, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,g6,Nc3,Bh6,Qg3,Bxc1,Rxc1,d6,Bd3,Nf6,Nge2,Qe7,O-O,Be6,b3,O-O-O,a4,Nb4,Rb1,Rhe8,Qe3,a6,Nd4,Ng4,Qg3,Ne5,Nxe6,Qxe6,Ra1,d5,exd5,Nxd5,Nxd5,Rxd5,Be4,Rd2,Qe3,Red8,Qa7,Nc6,Bxc6,Qxc6,Rae1,Rxc2,Re7,b5,Rfe1,Rc1,Kf1,Rdd1', 'Re8+,Qxe8,Qa8+,Kd7,Qxe8+', 'https://lichess.org/training/zwrK2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZWsbx', 'Rapid', 'mundus68', 1870, 'abdulrahman1007', 1935, 'e4,c5,Nf3,d6,c3,a6,a4,Nc6,d3,Nf6,Nbd2,Bg4,b3,b5,axb5,axb5,Rxa8,Qxa8,Be2,g6,O-O,Bg7,Bb2,O-O,Qc2,b4,h3,Bd7,c4,e5,Nh2,Nd4,Bxd4,exd4,Bf3,Bc6,Re1,Re8,e5,dxe5,Bxc6,Qxc6,Ndf3,Nh5,g4,Nf4,Qd1,Nxh3+,Kf1,Nf4,Re4,h6,g5,h5,Nh4,Ra8,N2f3,Ra3,Kg1,Qa8,Re1,Ra2,Kh2,Rxf2+,Kg3,Rb2,Nxe5,Bxe5,Rxe5,Ne6,Re4,Nxg5,Qc1,Nxe4+,dxe4,Rxb3+,Kf4,Qb8+,e5,f6,Nxg6,fxe5+,Nxe5,Re3,Qg1+,Kf8,Qg5,Rxe5,Qf6+,Ke8', 'Qh8+,Kd7,Qxb8', 'https://lichess.org/training/ZWsbx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zWSvy', 'Rapid', 'Batugngr1903', 1711, 'naukarus19', 1752, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,c6,e4,d6,d4,Bg4,Nge2,Nbd7,Qc2,O-O,O-O,Rc8,Bf4,a6,e5,Bf5,Qd2,dxe5,dxe5,Nxe5', 'Qxd8,Rfxd8,Bxe5', 'https://lichess.org/training/zWSvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZwtcN', 'Rapid', 'alei123', 1768, 'DrArd', 1776, 'e4,c5,Bc4,Nc6,Nf3,g6,Bxf7+,Kxf7,Ng5+,Kg7,b4,Nxb4,Bb2+,Nf6,e5,Nfd5,e6+,Nf6,Bxf6+,exf6,Ne4,Qe7,O-O,Qxe6,Re1,Qe5,Nbc3,Bd6,Ng3,Qf4,Nd5,Qh6,Nxf6,Kxf6,Qf3+,Bf4,Ne4+,Kg7,g3,Bxd2,Qf6+,Kg8,Qd8+,Qf8,Nf6+,Kg7,Re7+,Kxf6,Re8+,Kg7,Rxf8,Rxf8,Qe7+,Rf7,Qe5+,Kh6,Rd1,d6,Qe8,Bg4,Qxf7,Bxd1,Qxb7,Re8,a3,Re1+,Kg2,Nxc2,Qd5,Nd4,Qxd6,Bf3+,Kh3,Kh5,Qxc5+,Nf5,Qc2,g5', 'Qxf5,Bg4+,Qxg4+', 'https://lichess.org/training/ZwtcN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zwti6', 'Rapid', 'fikriasmal', 1723, 'TulatovOleg', 1906, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,g3,a6,Bg2,Nc6,O-O,Bg4,d3,h5,Bf4,Qd7,Qd2,O-O-O,Ne5,Nxe5,Bxe5,Bh3,Bxh3,Qxh3,Bxf6,gxf6,Qf4,Bh6,Qf3,h4,Ne4,f5,Nc5,c6,Rfe1,e6,c4,f4,Qg2,Qf5,Ne4,hxg3,fxg3,fxg3,Qxg3,Rhg8,Nd6+,Rxd6,Qxg8+,Kc7,Rf1,Be3+,Kh1,Qxd3,Qxf7+,Kb6,Rad1', 'Qe4+,Qf3,Qxf3+,Rxf3,Rxd1+', 'https://lichess.org/training/Zwti6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZwUNQ', 'Rapid', 'kalengo', 1877, 'S_Patzer', 2052, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,bxc6,Nd2,Nxd2,Bxd2,Bc5,Nb3,Bb6,O-O,O-O,Qe2,f6,e6,Re8,Rfe1,Rxe6,Qh5,Qf8,Rxe6,Bxe6,Re1,Bf7,Qg4,Re8,Rxe8,Qxe8,h4,Qe6,Qxe6,Bxe6,c3,Kf7,Nd4,c5,Nf3,Bg4,Nh2,Be2,g3,Ke6,Kg2,d4,Nf3,Kd5,g4,Ba5,c4+,Bxc4,Bxa5,Bxa2,Bxc7,c4,Ba5,Ke4,Nd2+,Kd3,f4', 'c3,bxc3,dxc3,Nf1,c2,Bd2,Ke2', 'https://lichess.org/training/ZwUNQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwXkR', 'Rapid', 'Tag62', 1923, 'pharv', 1937, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,Ne5,Bb3,d6,Nd2,Bg4,f3,Nd3+,Kf1,Bh5,Nc4,Nf4,Qd2,Neg6,Nb5,Bxe3,Qxe3,Ne6,g4,Bxg4,Ke2,Ngf4+,Kd2,Ng2,Qd3,Bxf3,Rhf1,Qh6+,Kc2,Bh5,Ncxd6+,cxd6,Bxe6,Ne3+,Kb3,Qxe6+,c4,Nxf1', 'Nc7+,Ke7,Nxe6', 'https://lichess.org/training/zwXkR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zwxYW', 'Blitz', 'pagonis', 1939, 'philastro110', 1867, 'e4,d6,d4,Nc6,Nf3,Bd7,c4,g6,Nc3,e6,d5,exd5,exd5,Ne5,Nxe5,dxe5,Bd3,Bg7,O-O,Ne7,Bg5,h6,Bh4,g5,Bg3,f6,Ne4,Bf5,Qa4+,Bd7,Qb3,f5,Nc5,b6,Nxd7,Qxd7,f3,Ng6,Qc2,O-O,Bf2,Rae8,Rfe1,Nf4,Bf1,c5,Rad1,Qd6,g3,Ng6,Bd3,e4,fxe4,fxe4,Bxe4,Ne5,Bg2,Rf7,Re4,Ref8,Be3,g4,Bf4,Qg6,Qe2,Nd7,Re6,Qf5,Be4,Qh7,Bxh7+,Kxh7,Qe4+,Kg8,Bxh6,Bd4+,Kg2', 'Rf2+,Kh1,Rf1+,Rxf1,Rxf1+,Kg2,Rg1#', 'https://lichess.org/training/zwxYW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zWzdS', 'Blitz', 'Sulzhenko_Andrey', 1636, 'Eljo', 1604, 'e4,c5,Bc4,Nc6,Nf3,d6,Nc3,Nf6,O-O,Bg4,h3,Bxf3,Qxf3,e5,d3,Be7,h4,O-O,Bg5,Nd7,Qg4,Bxg5,hxg5,Nd4,g3,Nxc2,Rac1,Nd4,Kg2,Kh8,Rh1,f6,Qf5,Nxf5,exf5,fxg5', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/zWzdS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZX0J5', 'Blitz', 'Gattamelata', 2278, 'Thadz', 2108, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,g3,g6,Bg2,Bg7,O-O,O-O,Nb3,Bd7,h3,Qc8,Kh2,Rb8,Be3,a6,a4,Ne5,Nd2,Nc4,Nxc4,Qxc4,Qd2,Rfe8,a5,Red8,Bb6,Re8,f4,Qc8,Rad1,Bb5,Rfe1,Nh5,g4,Nxf4,Qxf4,Be5,Qxe5,dxe5,Rd2,Kg7,Re3,e6', 'Nxb5,axb5,Rc3,Qxc3,bxc3', 'https://lichess.org/training/ZX0J5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zx2Qj', 'Rapid', 'edgarjr', 1787, 'Granex', 1852, 'c4,Nf6,Nc3,d6,g3,g6,Bg2,Bg7,Nf3,O-O,O-O,Bg4,d3,e5,Qb3,Qc8,h3,Bxf3,Bxf3,c6,Ne4,Qc7,Nxf6+,Bxf6,Be3,Nd7,Bg2,Bg7,Bd2,Nc5,Qc2,Rfe8,e3,Qd7,b4,Ne6,Rab1,Ng5,h4,Ne6,c5,d5,e4,dxe4,dxe4,Rad8,Be3,Nd4,Qa4,a6,Rbd1,Ne2+,Kh2,Qg4,Bh3,Qxe4,Rde1,Nc3,Qb3,Nd5,Bg2,Qf5,a4,Nxe3,Qxe3,Qc2,Ra1,Qb2,Rfb1,Qd4,Ra2,Qxe3,fxe3,Rd3,e4,Re3,Rd2,Ra3,a5,Bf6,Rf1,Bg7,Rd7,f6,Rxb7,Rd8,Rf2,Rdd3,Bf1,Rxg3,Rb8+,Kf7,Rd2,Bh6,Bc4+,Ke7,Rb7+,Ke8,Bf7+,Kf8', 'Rd8+,Kg7,Bc4#', 'https://lichess.org/training/zx2Qj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zX2S0', 'Rapid', 'Mulacrelkcah', 1755, 'TouchMyClick', 1761, 'e4,e6,d3,d5,Nd2,c5,g3,Nf6,Bg2,Nc6,Ngf3,Qb6,O-O,Be7,e5,Nd7,Re1,f6,exf6,Nxf6,Nf1,O-O,Ng5,c4,Nxe6,Bxe6,Rxe6,Ng4,Bxd5,Qxf2+,Kh1,Qxh2+,Nxh2,Nf2+,Kg1,Nxd1,Rxe7+,Kh8,Rxb7,Nd4,Bf4,Ne2+,Kg2,Nxf4+,gxf4,Ne3+,Kg3,Nxd5,Rf1,cxd3,cxd3,Ne3,Re1,Nf5+,Kh3,Rf6,Re5,Rh6+,Kg4,g6,Nf3,Rh1,Ng5,h5+,Kf3,Rf1+,Ke4', 'Nd6+,Kd5,Nxb7', 'https://lichess.org/training/zX2S0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zx4LU', 'Rapid', 'bivchess', 1992, 'RosenIM', 1760, 'e4,e6,f4,d5,Nc3,Nf6,e5,Nfd7,Nf3,c5,d4,cxd4,Nxd4,Qh4+,g3,Qd8,Be3,a6,Bg2,b5,O-O,Bc5,Nce2,Qb6,c3,Nc6,b4,Bxd4,Bxd4,Nxd4,Nxd4,Bb7,Kh1,Rc8,Rc1,O-O,a4,Rc4,a5,Qa7,Rf3,Rfc8,Bf1,R4c7,Bxb5,axb5,Nxb5,Qb8,Nxc7,Rxc7,Qd4,Ba6,Rb1,Bc4,Rf2,Qb5,Ra1,Qa6,Rb2,Rb7,h4,Nb8,Qc5,Nd7,Qd6,Qa8,a6,Ra7,b5,d4+,Qc6', 'Bd5+,Kh2,Bxc6', 'https://lichess.org/training/zx4LU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zx66K', 'Rapid', 'Sergey_Tsarelung', 1941, 'open-hearted', 1890, 'e4,e5,Bc4,Nf6,d3,Bc5,Nc3,c6,Bg5,O-O,h3,a5,a4,Bd4,Nge2,Bc5,d4,exd4,Nxd4,d5,exd5,cxd5,Nxd5,Be7,O-O', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/Zx66K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zX836', 'Rapid', 'AntonyBareno', 1949, 'cmara17d', 1881, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Bb4,Bc4,Nc6,O-O,Nge7,Nb5,a6,Nd6+,Bxd6,Qxd6,O-O,b3,b5,Bd3,Bb7,Bb2,Ng6,Rad1,f6,Bb1,Nge5,Nxe5,Nxe5,f4,Ng4,Rfe1,f5,exf5', 'Qh4,Qd2,Qxh2+', 'https://lichess.org/training/zX836');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZX9Nl', 'Blitz', 'wau8824ru', 1615, 'Markhor3', 1691, 'e4,e5,Bc4,Nc6,c3,Nf6,d3,Be7,Nf3,Na5,Bb5,a6,Ba4,b5,Bc2,O-O,O-O,d6,Be3,c5,Nbd2,Bg4,Qc1,Nc6,Ne1,Bd7,f3,Nh5,Bd1,Bg5,Nb3,Nf4,Qd2,Qf6,Nc1,Qg6,Ne2,Nh3+,Kh1,Bxe3,Qxe3,Ng5,Ng3,f5,exf5,Bxf5,Nxf5,Rxf5,Bc2,Rf4,d4,Qh6,dxc5,Raf8,cxd6,e4,d7,Nxf3,Nxf3,exf3,Rxf3', 'Rxf3,Bb3+,Kh8,Qxf3,Rxf3', 'https://lichess.org/training/ZX9Nl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXajs', 'Blitz', 'CM ShahMatKanal', 2192, 'rodrit', 1969, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,O-O,gxf3,Qxf3,Qf6,e5,Qxe5,Bxf7+,Kxf7,d4,Qf5,Bxf4,Bg7,Qb3+,Ke8,Nc3,Ne7,Rae1,Bxd4+,Kh1,Rf8,Nd5,Bc5,Nxc7+,Kd8,Nxa8,Bd6,g3,Bxf4', 'Rxf4,Qxf4,gxf4', 'https://lichess.org/training/zXajs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zxb8g', 'Rapid', 'igrokan', 1789, 'k3dra4', 1817, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,e6,a3,c6,d3,Nf6,Nf3,Be7,O-O,b5,Bb3,a5,Ne5,Bb7,Qf3,a4,Ba2,O-O,Nxb5,cxb5,Qxb7,Nbd7,Qxb5,Nxe5,Qxe5,Bd6,Qg5,Ra5,Qh4', 'Rh5,Qxh5,Nxh5', 'https://lichess.org/training/zxb8g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZxBDI', 'Blitz', 'Rajivsoney', 1834, 'PANK-007', 1834, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,Nxe4,dxe5,d5,exd6,Nxd6,Bb3,Be7,O-O,Bg4,Qd3,O-O,Nc3,Bxf3,Qxf3,Nd4,Qh3,Nxb3,axb3,Bf6,Be3,Bxc3,bxc3,Qf6,Bd4,Qg6,Rfe1,a6,Rad1,Qxc2,b4,Rfe8,Qd7,Rxe1+,Rxe1,Rc8', 'Qxc8+,Nxc8,Re8#', 'https://lichess.org/training/ZxBDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZXC4S', 'Rapid', 'Ace_Rothstein', 1898, 'bigkim', 1898, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,c6,h3,b5,Bb3,Bb7,Nf3,Nf6,Qe2,Nbd7,Bxf7+,Kxf7,Ng5+,Ke8,Qe6,b4,Qf7+,Kd8,Nce4,Nxe4', 'Ne6+,Kc8,Qe8+,Qd8,Qxd8#', 'https://lichess.org/training/ZXC4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXEgz', 'Blitz', 'Bhanukailashiya1983', 1583, 'h-kian-m', 2046, 'e4,e5,Nf3,f5,exf5,e4,Nd4,Nf6,d3,d5,dxe4,dxe4,Nc3,Bc5,Be3,Bxd4,Bxd4,Bxf5,Bc4,c6,a3,Nbd7,O-O,Qc7,Re1,O-O-O,Be3,Ne5,Qe2,Bg4,Qf1,Bf3,gxf3', 'Nxf3+,Kh1,Qxh2#', 'https://lichess.org/training/zXEgz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXElE', 'Blitz', 'NM robertoyepez', 2304, 'Als33', 2245, 'd4,Nf6,Nf3,g6,Nc3,d5,e4,dxe4,Ne5,Bg7,Bc4,O-O,h3,c5,Be3,Qa5,dxc5,Be6,Bxe6,fxe6,O-O,Rd8,Qe2,Nd5,Nc4,Nxc3,bxc3,Qxc3,Rad1,Nc6,Rb1,Nd4,Bxd4,Rxd4,Ne3,Rd2,Qg4,Qe5,Rxb7,Bh6,Rxe7,Rxf2,Kxf2,Bxe3+,Kxe3,Qxc5+,Ke2,Qxe7,Qxe4,Rc8,Rd1,Rc5,c4,Qf6', 'Qa8+,Qf8,Rd8', 'https://lichess.org/training/zXElE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXfaR', 'Rapid', 'ecclar63', 1916, 'altrantran', 1901, 'd4,d5,Nf3,Nc6,Bf4,Nf6,h3,e6,e3,Bd6,c3,Bxf4,exf4,O-O,Nbd2,Ne4,Nxe4,dxe4,Nd2,f5,f3,Qh4+,Ke2,Qxf4,Qe1,b6,g3,exf3+,Nxf3,Ba6+', 'Kf2,Qd6,Bxa6', 'https://lichess.org/training/zXfaR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZXFwi', 'Blitz', 'cdpossibility', 1705, 'iiARKO', 1704, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Qf3,Nf6,d3,Nc6,Bd2,Bg4,Qe3,e6,Ne4,Qe5,Bc3,Qh5,Nxf6+,gxf6,Bxf6,Rg8,h3,Qg6,Bc3,Bh6,Qg3,Qh5,f3,Bxf3,Qxg8+,Ke7,Qxa8', 'Qh4+,g3,Qxg3#', 'https://lichess.org/training/ZXFwi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXg3S', 'Blitz', 'Pferderer', 2030, 'Marca0403', 1786, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,O-O,Bg5,h6,Bh4,Be7,h3,Bb7,Ne2,c5,b3,Qc7,Re1,Qc6,Nc1,c4,Bf1,Rfe8,bxc4,dxc4,Rb1,Ne4,Bxe7,Rxe7,Qf3,Qc5,Qe3,Qc6,Ne2,Rae8,Qf3,Qc7,Qf4,Qa5,Ng3,Nxg3,Rxe7,Rxe7,Qxg3,Be4,Rb8+,Kh7,Bxc4,Qe1+,Kh2,Bg6,Bd3,Qc1,Bxg6+,fxg6,Qd3,Qf4+,Qg3,Qc1,Qd3,Re1,Qd8', 'Qf4+,g3,Qxf2#', 'https://lichess.org/training/zXg3S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZXG6G', 'Rapid', 'stock_modo', 1741, 'Priyanshu_kumar', 1768, 'b3,d5,Bb2,d4,Nf3,Nc6,Nxd4,Nxd4,Nc3,e5,e4,Nf6,f3,Nh5,Bc4,Nf4,g3,Nfe6,Nd5,Ng5,f4,Ngf3+,Kf2,Bc5,Bxd4,Nxd4,fxe5,Nxc2+,Kg2,Nxa1,Qxa1,c6,e6,cxd5,exf7+,Kxf7,Rf1+,Ke7,Qe5+,Kd7,Qxg7+,Kc6,Bxd5+,Kb6,Rf6+,Bd6,Rxd6+,Qxd6,Qxh8,a5,Qd4+,Kc7,e5,Qh6,Qc5+,Kd8,h4,Qxd2+,Kf3,Qxa2,Qd6+,Ke8,e6,Ra6,Qc5,Bxe6,Bxe6,Rxe6,Qc8+,Ke7,Qxb7+,Kf6,Qxh7,Qxb3+,Kg4,Re4+,Qxe4,Qd1+,Kh3,Qf1+,Kg4,Qd1+,Kf4,Qd2+,Kf3,Qd1+,Ke3,Qe1+,Kd4,Qd1+,Kc3,Qc1+,Kb3,Qd1+,Qc2,Qf3+,Ka4,Qxg3,Qc6+,Kf5,Qd5+,Kg4', 'Qg5+,Kh3,Qxg3+,Kxg3,h5', 'https://lichess.org/training/ZXG6G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZxgGy', 'Rapid', 'huawei2020', 2118, 'AjedrezGenesis', 2148, 'd4,Nf6,Nf3,d5,Bf4,c5,e3,Nc6,c3,e6,Nbd2,cxd4,exd4,Nh5,Bg5,Qc7,Bd3,Bd6,Ne5,Nf6,Bxf6,gxf6,Nxc6,Qxc6,Qe2,Bd7,a4,f5,Bxf5,Qb6,Nf3,O-O,Bd3,Kh8,Ne5,Be8,Qh5,f5,Qh6,Qxb2,O-O,Qxc3,Qxe6,Rd8,Qxd5,Bc6,Nxc6', 'Bxh2+,Kxh2,Rxd5', 'https://lichess.org/training/ZxgGy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZXGzc', 'Blitz', 'PedroCosta2016', 1710, 'Matedor', 1693, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,exd6,cxd6,Nf3,Bg4,h3,Bh5,g4,Bg6,Nc3,Nc6,d5,Nb4,a4,Nc2+,Kd2,Nxa1,a5,Nd7,b4,Nc2,h4,Nxb4,h5,Bc2,Qe2,Bb3,Ne4,Qxa5', 'Nxd6+,Kd8,Nxb7+,Kc7,Nxa5', 'https://lichess.org/training/ZXGzc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXH1w', 'Rapid', 'ChampionsChessJBBR', 1625, 'Arcoseno', 1865, 'Nf3,d5,d4,Nf6,e3,Bg4,a3,e6,Nbd2,h6,b4,Bd6,c4,c6,c5,Bc7,a4,O-O,a5,Nbd7,Bb2,Re8,Be2,e5,dxe5,Bxe5,Bxe5,Nxe5,Rc1,Nxf3+,Nxf3,Qe7,Nd4,Bxe2,Qxe2,Rad8,Nf5,Qe5,Nd4,Re7,O-O', 'Qxd4,exd4,Rxe2', 'https://lichess.org/training/zXH1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZXh5b', 'Bullet', 'bgking', 1709, 'rava65', 1595, 'e4,g6,d4,Bg7,c4,b6,Nc3,Bb7,f3,e6,Be3,d6,Qd2,Nd7,O-O-O,c6,g4,Qc7,h4,Ne7,h5,O-O-O,Nge2,Kb8,Bh6,Bxh6,Qxh6,Nf6,Ng3,e5,d5,cxd5,cxd5,Rc8,Qg7,Rcf8,Qxf6,Ng8,Qxh8,b5,Kb1,b4,Nce2,Ba6,Qxh7,Rc8,Rc1', 'Bd3+,Ka1,Qxc1+,Nxc1,Rxc1#', 'https://lichess.org/training/ZXh5b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZXhqB', 'Rapid', 'WRELIAND', 1769, 'Dante-cordoba', 2013, 'e4,c5,Nf3,d6,Bc4,e6,O-O,Nc6,c3,Nf6,d3,Be7,Bb5,Qc7,Re1,O-O,e5,Nxe5,Bf4,Nxf3+,Qxf3,Bd7,Bxd7,Qxd7,c4,Rad8,Nc3,a6,a3,d5,Be5,d4,Ne4,Nxe4,Rxe4,Bd6,Bxg7,Kxg7', 'Rg4+,Kh8,Qf6#', 'https://lichess.org/training/ZXhqB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zxI03', 'Blitz', 'FM AndrsPalu', 2191, 'pablobadde', 2120, 'e4,c5,Nc3,Nc6,Bb5,Nd4,Nf3,g6,Nxd4,cxd4,Ne2,Bg7,Bd3,e5,O-O,Ne7,f4,d6,b3,O-O,Bb2,f5,exf5,Bxf5,Bxf5,Nxf5,Ng3,e4,Nxe4,Qb6,Kh1,Rae8,Ng3,Qc5,Rc1,Bh6,Qf3,d5,c3,Nxg3+,hxg3,d3,Qxd3,Rf5,Qd4,Qxd4,cxd4,Re4,Rc8+,Rf8,Rxf8+,Kxf8,Kg1,Bg7,Kf2,Bxd4+,Bxd4,Rxd4,Ke2,Kf7,Rc1,Re4+,Kd3,Re7,Rc5,Rd7,Kd4,Ke6,g4,b6,f5+,gxf5,gxf5+,Kf6,Rxd5,Rc7,g4,Rc2,Rd6+,Kg5,f6,Rxd2+,Ke5,Re2+,Kd5,Rxa2,Rd7', 'Rd2+,Ke6,Rxd7,Kxd7,Kxf6', 'https://lichess.org/training/zxI03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXisD', 'Blitz', 'ZYKR', 1967, 'Palot24', 2017, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,c4,Nc6,d4,cxd4,Nxd4,g6,b3,Bg7,Bb2,Nf6,Nc3,O-O,O-O,Rac8,Nxc6,bxc6,Qe2,Qc7,Rad1,Nd7,f4,Nc5,b4,Nd7,a4,Qb6+,Kh1,Qxb4,Qc2,Rb8,Ba1,Qb3,Qd3,Nc5,Qf3,Bxc3,Bxc3,Nxe4,Qxe4,Qxc3,Qxe7,Qxc4,Qxd6,Qxa4,f5,Rb2,f6,h5', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/zXisD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZxjDy', 'Blitz', 'emre2006', 1777, 'AnandVihari', 1769, 'g3,e5,Bg2,Nc6,d3,d6,Nf3,Nf6,O-O,Bg4,Bg5,Be7,c3,O-O,Bxf6,Bxf6,Qa4,a6,Qxg4,d5,Qa4,e4,dxe4,Re8,exd5,b5,Qb3,Ne5,Nxe5,Rxe5,e3,Rb8,Nd2,c5,a3,c4,Qc2,a5,Rad1,b4,axb4,axb4,cxb4,Rxb4,Qc3,Qb8,b3,Rxd5,Qc2,cxb3,Nxb3,Rxd1,Qxd1,Rxb3,Qd7,Rb1,Rxb1,Qxb1+,Bf1,g6,Qe8+,Kg7,Kg2,h5,Bc4,Qb7+,Kg1,g5,Qb5,Qa7,Qd5,h4,gxh4,gxh4,Qg2+,Kf8,Bd5,Qa1+,Qf1,Qe5,Qg2,h3,Qe4', 'Qa1+,Qb1,Qxb1#', 'https://lichess.org/training/ZxjDy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZxJem', 'Blitz', 'Josh97', 1852, 'Pavlov_22', 1883, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,d3,d6,Bg5,h6,Bh4,g5,Bg3,Na5,Bb3,Nxb3,axb3,Nh5,Na4,Nxg3,hxg3,Bg4,Nxc5,dxc5,Qd2,Bxf3,gxf3,f5,Qc3,Qd4,Kg2,Kg7,Rfe1,f4,Ra5,Qxc3,bxc3,b6,Ra4,Rf7,b4,cxb4,cxb4,a5,Rea1,fxg3,fxg3,Raf8,bxa5,bxa5,Rxa5,Rxf3,Rxe5,Rf2+,Kh3,Rxc2,Kg4,Kg6,Re6+,Rf6,Raa6', 'h5+,Kh3,g4+,Kh4,Rh2#', 'https://lichess.org/training/ZxJem');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZxLMl', 'Rapid', 'aharonchiko', 2064, 'Andi2020', 2126, 'c4,c5,g3,Nf6,Bg2,e6,e3,d5,cxd5,exd5,Ne2,Nc6,Nbc3,Be6,O-O,a6,Nf4,Bd6,Nfxd5,Nxd5,Nxd5,O-O,Nc3,Qd7,b3,Be5,Bb2,Bh3,Qc2,Bxg2,Kxg2,b5,Ne2,Bxb2,Qxb2,Rab8,Qc2,Rbd8,Qxc5,Qd5+,Qxd5,Rxd5,d4,Nb4,Rfc1,f6,a3,Nd3,Rc3,Nxf2,Kxf2,Rf5+,Kg2,Re8,Nf4,g5,Nh3,h5,Rf1,Rxf1,Kxf1,Kf7,Kf2,a5,Rc7+,Ke6,Rc6+,Kf5,Rc5+,Kg4,Ng1,b4,Rxa5,bxa3,Rxa3,Rc8,h3+,Kf5,Ra5+,Ke4,Ne2,Rc2,Ra6,Kd3,Rxf6,Rxe2+,Kf3,Rxe3+,Kg2,Kxd4,b4,Kc4,Rb6,g4,hxg4,hxg4,Kf2,Rf3+,Kg2,Rb3,b5,Kc5,Rb8,Rb2+,Kf1,Kd6,b6,Kc6,b7,Kc7,Rg8,Rxb7', 'Rg7+,Kb6,Rxb7+', 'https://lichess.org/training/ZxLMl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXLTS', 'Blitz', 'scaccolassi', 2030, 'Mike01chess', 2047, 'Nf3,c5,c4,Nf6,Nc3,g6,g3,Bg7,Bg2,Nc6,O-O,O-O,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Qd3,Nd7,b3,Nc5,Qd2,Be6,Bb2,a6,Nd5,Bxb2,Qxb2,b5,cxb5,axb5,h4,Rb8,h5,Nd7,hxg6,fxg6,Nf4,Bf7,Rad1,Qa5,Nd5,Rbe8,Rc1,Ne5,Rc7,Bxd5,Bxd5+,e6,Rfc1,exd5,f4,Nf7,Qf6,Qb6+,Kg2,Rxe2+,Kh3,Qf2,Rxf7,Rxf7', 'Rc8+,Re8,Rxe8+,Rf8,Qxf8#', 'https://lichess.org/training/zXLTS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZXlwV', 'Rapid', 'ElHacedordeMates', 1914, 'raif1956', 1918, 'd4,d5,Nf3,Nd7,Bf4,e6,e3,c5,c3,cxd4,cxd4,Bb4+,Nc3,Ngf6,Bd3,Ne4,Bxe4,dxe4,Nd2,f5,Qb3,Qe7,Nb5,Ba5,Rc1,Qb4,Qxb4,Bxb4,Nc7+,Kd8,Nxa8,Ba5,Nc7,e5,Ne6+,Ke7,Nc5,exf4,Nxd7,fxe3,fxe3,Bxd7,Ke2,Bb5+,Kd1,Rd8,b3,Bb4,Nc4,f4,Ne5,fxe3,Rc7+,Ke6,Nc4,Rxd4+,Ke2,Bxc4+,Rxc4,Rxc4,bxc4,Bd2,Rb1,b6,a4,Ke5,h3,Kd4,c5,Kxc5,Rb5+,Kc4,Re5,Kb4,Re7,a5,Rxg7', 'Kxa4,Rxh7,b5,g4,b4', 'https://lichess.org/training/ZXlwV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZXMdw', 'Blitz', 'c72', 1915, 'CM Kallekula', 2204, 'b3,e5,Bb2,d6,e3,Nd7,d4,Ngf6,dxe5,dxe5,Nd2,Be7,Ne2,O-O,Ng3,Re8,Be2,Bf8,O-O,c6,c4,Qc7,Qc2,a5,Rac1,Nc5,Nde4,Ncxe4,Nxe4,Nxe4,Qxe4,f5,Qc2,Be6,Rfd1,a4,Ra1,a3,Bc3,b5,Rac1,bxc4,Bxc4,Bxc4,bxc4,Qf7,Ba1,e4,Qc3,Red8,Rd4,c5,Rdd1,Be7,Qe1,Bf6,Bxf6,Qxf6,Rd5,Rxd5,cxd5,Qb2,Ra1,Rd8,Qd1,Qe5,Qb3,Qxd5', 'Rd1,Qxb3,Rxd8+,Kf7,axb3', 'https://lichess.org/training/ZXMdw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXMJI', 'Classical', 'Ramonov57', 1639, 'Andreydetectiveru', 1682, 'b3,e6,Bb2,d5,d4,Be7,e3,Bf6,Bb5+,Bd7,Bxd7+,Nxd7,c4,c5,cxd5,exd5,Nf3,Nh6,O-O,Qc7,Bc3,Ng4,dxc5,Bxc3,Nxc3,Nde5,Nxe5,Qxe5,Qxg4,Qxc3,Qxg7,O-O-O,Qxf7,Qd3,Qe6+,Kb8,Rac1,Rhe8,Rfd1', 'Qxd1+,Rxd1,Rxe6', 'https://lichess.org/training/zXMJI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZxmNL', 'Classical', 'Halls_Gambit', 2059, 'Drplate', 1771, 'd4,Nf6,Nc3,d5,Bg5,e6,f3,Be7,Qd3,Nc6,O-O-O,h6,Bh4,a6,e4,Nb4,Qe3,Ng4,fxg4,Bxh4,Nf3,Be7,a3,dxe4,Nxe4,Nd5,Qf2,Nf6,Nxf6+,Bxf6,Be2,Bd7,h4,Qe7,Kb1,O-O-O,g3,Bc6,Rhe1,Kb8,Qe3,g5,h5,Rd6,Ne5,Rhd8,c3,Ba4,Rd2,c5,Bd1,cxd4,Rxd4,Rxd4,cxd4,Be8,Bf3,Bxe5,dxe5,Bb5,Rd1,Rxd1+,Bxd1,Qd7,Bf3,Qd3+,Qxd3,Bxd3+,Kc1,Kc7,Kd2,Bc4,Kc3,Bd5,Bxd5,exd5,a4,a5,b3,b6,Kd4', 'Kc6,Ke3,Kc5', 'https://lichess.org/training/ZxmNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZXmXc', 'Rapid', 'Saibaba20', 2003, 'Grius', 2079, 'd4,d6,Bf4,g6,Nf3,Bg7,Nc3,Nf6,Qd2,O-O,O-O-O,Bf5,h3,Ne4,Nxe4,Bxe4,Qb4,Nc6,Qb3,Na5,Qe3,d5,Ng5,Nc4,Qc3,Bf5,g4,Bd7,e4,c6,Bxc4,dxc4,Qxc4,Qa5,Rd3,h6,Ra3,Qb6,Nf3,Be6,Qd3,c5,Be5,f6,Bg3,cxd4,Nxd4,Rfd8,Rd1,Bf7,Qb5,Rxd4', 'Qxb6,Rxd1+,Kxd1,axb6,Rxa8+', 'https://lichess.org/training/ZXmXc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZXnIO', 'Rapid', 'Vishal94051', 1753, 'Indeedsmol', 1654, 'e4,c6,d4,d5,Nc3,h6,Nf3,Nf6,e5,Ne4,Nxe4,dxe4,Nd2,Bf5,c3,e6,Qe2,Qd5,Qd1,c5,Bc4,Qd7,O-O,cxd4,cxd4,Qxd4,Qb3,Qb6,Bb5+,Nc6,Nc4,Qc7,Be3,a6,Qa4,Be7,Bxc6+,Qxc6,Qb3,O-O,Rac1,Rad8,Nd6,Qd5,Nxf5,Qxb3', 'Nxe7+,Kh7,axb3', 'https://lichess.org/training/ZXnIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zxntd', 'Rapid', 'STIPPI', 1784, 'mschnitzel', 1824, 'b4,d5,Bb2,e6,g3,f5,Bg2,Nf6,a3,Bd6,e3,O-O,Ne2,b6,c4,c6,cxd5,exd5,O-O,Be6,d4,Ne4,Nd2,Nd7,Nxe4,fxe4,Qd2,Nf6,Rac1,Qd7,a4,Rac8,b5,c5,dxc5,Bxc5,Nd4,Bh3,Ne2,Qg4,Nf4,Bxg2,Nxg2,Qf3,Qd1,Ng4,Qxd5+,Kh8,Nh4,Qe2,Ba1,Nxe3,Qe5,Rf7,Qxe4,Re7,Rxc5,Rce8,Qxe3,Rxe3,fxe3,Qxe3+,Kg2,bxc5,Nf5,Qe4+,Kg1,Rf8', 'Bxg7+,Kg8,Bxf8', 'https://lichess.org/training/zxntd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zxoEZ', 'Rapid', 'regul01', 2302, 'EyeSanitizer', 2411, 'd4,d5,Nf3,Nf6,Bg5,Ne4,Bf4,c5,Nbd2,cxd4,Bxb8,Rxb8,Nxd4,e5,Nxe4,dxe4,Nb3,Qxd1+,Rxd1,Be6,e3,Be7,Bb5+,Kf8,Bd7,Bxb3,axb3,g6,Ke2,Kg7,Rd5,f5,c3,Kf6,Ra1,a6,b4,Rhd8,Rad1,b6,h4,a5,b5,a4,g4,fxg4,Bxg4,Rxd5,Rxd5,Rb7,Kf1,h5,Bd7,Ra7,Kg2,a3,bxa3,Rxa3,Bc6,Rxc3,Rd7,Rb3,Kg3,Rb1,Bxe4,Rxb5,Bxg6,Rb4,Bxh5,Ke6,Rb7,Bxh4+,Kf3,Rb2,Bg4+,Kd5,Rd7+,Kc6,Rh7,Rxf2+,Ke4,Bg5,Rh5,Bf6,Rh6,Kc5,Bf5,Be7,Kxe5,Bg5,Rh3,Re2,e4,Be3,Rh8', 'Bd4+,Kf4,Bxh8', 'https://lichess.org/training/zxoEZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXoSH', 'Rapid', 'Bingil', 1705, 'sh10928', 1706, 'e4,c5,c4,e5,d3,d6,Nf3,Nc6,Nc3,Nf6,Be2,Be7,O-O,O-O,h3,h6,Nh2,Nd4,f4,a6,f5,Bd7,Ng4,b5,Nxh6+,gxh6,Bxh6,Re8,Nd5,Nxd5,cxd5,f6', 'Bh5,Bf8,Qg4+', 'https://lichess.org/training/zXoSH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZxQVO', 'Blitz', 'juanpy003', 1535, 'HolgerHoliday', 1563, 'd4,e6,Bf4,c5,d5,Nf6,dxe6,dxe6,Qxd8+,Kxd8,Nc3,g6,O-O-O+,Ke7,Bd6+,Ke8,Bc7,Be7,Nb5,Kf8,Nd6,Nc6,e4,e5,Bb5,Kg7,Bxc6,bxc6,Nxc8,Raxc8,Bxe5,Rcd8,Nf3,c4,g4,h6,h4,g5,hxg5,hxg5,Rxh8,Rxh8,Nxg5,Kg6,Bxf6,Bxf6,Nf3,c3,b3,c5,Rd6,Kg7,g5,Be7,Rd7,Bd8,Ne5', 'Rh1+,Rd1,Bxg5+,f4,Bxf4+,Kb1,Rxd1#', 'https://lichess.org/training/ZxQVO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zxqw7', 'Rapid', 'end_me_plz', 1617, 'jolao', 1613, 'd4,e6,Bf4,b6,e3,Bb7,h3,d6,Nf3,c6,c3,Nf6,Bd3,Be7,Nbd2,Nbd7,O-O,O-O,c4,g6,b3,Nh5,Bh2,c5,Re1,Ng7,Qc2,f5,Bf4,a5,e4,Bf6,e5,dxe5,dxe5,Be7,h4,Nh5,Bg5,Kg7,Qc3,h6,Bxe7,Qxe7,Rad1,Nf4,Bc2,g5,hxg5,hxg5,g3,Ng6,Kg2,g4,Rh1,Bxf3+,Nxf3,gxf3+,Kxf3,Ndxe5+,Kg2,Qf6,Rd7+,Nf7', 'Rh7+,Kxh7,Qxf6', 'https://lichess.org/training/Zxqw7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zxRdY', 'Classical', 'millennium_falcon', 1614, 'kbsrikanth', 1739, 'Nf3,c5,d4,cxd4,Nxd4,e5,Nb3,Nc6,e4,Nf6,Bd3,Be7,a3,O-O,Nc3,a6,Be3,b5,h3,Bb7,Nd2,Na5,Nf3,Nc4,Qc1,Nxe3,Qxe3,Rc8,Nxe5,Bc5,Qd2,d6,Nf3,Qb6,O-O,Rfd8,Nd5,Nxd5,exd5,g6,c4,bxc4,Bxc4,Bxf2+,Rxf2,Rxc4,Qh6,f6,Rf1,Rc2,Nd2,Bxd5,Kh1,f5,Qf4,Qxb2,Qg5,Rf8,Rxf5,Rxf5,Rxf5,Rxd2', 'Qd8+,Kg7,Qf8#', 'https://lichess.org/training/zxRdY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZxRp2', 'Rapid', 'renalo', 1989, 'Riafos', 1983, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,Nf3,Bg4,h3,Bh5,a3,e6,b4,Bxb4,axb4,Qxa1,O-O,Nc6,Nb5,O-O-O,Qe2,Bxf3,Qxf3,Qe5,d3,Nd4,Nxd4,Qxd4,Be3,Qc3,Bxa7,Qxc2,Bc5,Rd7,Ra1,Rdd8,Be7,Rde8,Bxf6,gxf6,Qxf6,Rhf8,Ra8+,Kd7,Qd4+,Ke7,Qh4+,Kd7,Ra1,Qc3,Rd1,Qxb4', 'Bxe6+,Rxe6,Qxb4', 'https://lichess.org/training/ZxRp2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXRRx', 'Rapid', 'zmijazmaj123', 1756, 'Jaydi', 1753, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,Bc5,h3,d6,Be2,Be6,O-O,O-O,Bg5,h6,Bh4,Re8,d4,exd4,cxd4,Bb4,d5,g5,Nxg5,Nxe4,dxe6,hxg5,exf7+,Kxf7,Bh5+,Ke6,Bxe8,Qxe8,Bg3,Kd7,Re1', 'Bxe1,Qxe1,Nxg3,Qxe8+,Rxe8', 'https://lichess.org/training/zXRRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zxSY2', 'Rapid', 'svarschik147', 1882, 'csh4236', 1819, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,Nf3,d5,e3,c5,dxc5,Bxc5,cxd5,exd5,Be2,Nc6,O-O,Qb6', 'Na4,Qd8,Nxc5', 'https://lichess.org/training/zxSY2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXTCP', 'Rapid', 'zhbz', 1700, 'michele31795', 1671, 'e4,e5,Nf3,Nf6,d4,exd4,Nxd4,Nxe4,Qe2,Qe7,f3,Nf6,Qxe7+,Bxe7,Bf4,d6,Nc3,O-O,O-O-O,Re8,Bd3,c5,Nf5,Bxf5,Bxf5,d5,Nxd5,Nxd5,Rxd5,Nc6,Rdd1,Nd4,Bd3,b5,b3,Rad8,Be3,Bf6,Bxd4,Bxd4,Bxb5,Be3+,Kb1,Rxd1+,Rxd1,Rb8,Bd3,a5,a4,Bf4,h3,h6,Bc4,Be3,Rd5,Kh8,Rd7,f6,Ra7,Rd8,Rxa5,Rd1+,Ka2,Bd4,Ra8+,Kh7,Bd3+,g6,b4,cxb4,Kb3,Bc3,a5,Rb1+,Kc4,Rg1,g4,Rg3,Be4,Rxh3,a6,Rh1,Ra7+,Kg8,Rb7,Ra1,a7,h5,gxh5,gxh5,a8=Q+,Rxa8,Rxb4', 'Rc8+,Kb3,Bxb4', 'https://lichess.org/training/zXTCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZXTtG', 'Classical', 'Doc99999', 1817, 'edik-ko', 1815, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Bc5,a3,Nge7,Nc3,O-O,Na4,Bd6,b4,a6,Ba2,Na7,c4,c5,bxc5,Bc7,Bb2,d6,cxd6,Bxd6,c5,Bc7,Nxe5,Nec6,Nxc6,Nxc6,Bd5,Qh4,g3,Qg5,f4,Qe7,f5,Be5,d4,Bc7,e5,Kh8,Qh5,f6,exf6,Qxf6,Bxc6,Qxc6,f6,Rxf6,Rxf6,Qxf6,Qe8+,Kh7,Rf1', 'Qxf1+,Kxf1,Bh3+', 'https://lichess.org/training/ZXTtG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXueK', 'Rapid', 'ali4861', 1877, 'fselpo', 1858, 'e4,e5,Nf3,Nf6,Nc3,d6,d4,exd4,Nxd4,Be7,Bc4,O-O,O-O,a6,Nd5,Nxd5,exd5,Nd7,Bd3,Nf6,Nf5,Nxd5,Nxe7+,Nxe7,Re1,Be6,Re3,Bf5,Rg3,Bxd3,Qxd3,Ng6,Bg5,Qd7,Rh3,Rfe8,f4,f6,f5,Ne5,Qd5+,Kh8,Bf4,c6,Qd1,Qxf5,Bxe5,dxe5,Rf3,Qg6,Qd7,Rab8,Rg3,Qh6,Rd1,g5,Rh3,Qg7,Qxg7+,Kxg7,Rd7+,Kg6,Rdxh7,e4,g4,Rg8', 'R3h6#', 'https://lichess.org/training/zXueK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXuUy', 'Rapid', 'Sholokhova_Nastia08', 1806, 'ELDAR_KOLESOFF', 1705, 'd4,c6,Bf4,d5,e3,Bf5,Nf3,Nf6,c4,e6,Nc3,Bb4,Qb3,Bxc3+,bxc3,Qd7,Ne5,Qe7,cxd5,cxd5,Bb5+,Nbd7,Qa4,Rd8,Qxa7,O-O,Qa4,Nxe5,Bxe5,Ne4,Rc1,Qg5,O-O,Bh3,Bg3,Nxg3,hxg3,Bf5,Be2,Ra8,Qb3,Ra7,c4,dxc4,Rxc4,Rfa8,a4,g6,Rfc1,Kg7,Bf3,Rb8,Rc7,Qd8,g4,b5,axb5,Rxc7,Rxc7,Qxc7,gxf5,exf5,g3,Qa5,Bc6,Qb6,d5,Kf8,d6,Qxc6', 'bxc6,Rxb3,c7', 'https://lichess.org/training/zXuUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZxVEb', 'Rapid', 'Doctor_Bean', 1583, 'cankut34', 1566, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,d6,O-O,h6,d3,Be7,Be3,Be6,Nd5,Bxd5,Bxd5,Nxd5,exd5,Nb4,Qd2,Nxd5,Qa5,Nxe3,fxe3,c6,Qb4,d5,Qxb7,Qc8,Qb3,e4,Ne5,exd3,Nxf7,O-O,Ne5,Rxf1+,Rxf1,d2,Qc3,Bf6,Qxc6,Bxe5,Qxd5+,Kh8,Qxe5,Qxc2,Qd5,Rc8,h3,Qc1,Qd3,Qc2,Qd7,Qc1,e4,Qxf1+', 'Kxf1,Rc1+,Ke2,d1=Q+,Qxd1,Rxd1,Kxd1', 'https://lichess.org/training/ZxVEb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZxW3K', 'Rapid', 'djgr887', 1693, 'david-l', 1645, 'e4,e6,Bc4,d6,d3,Nc6,Nf3,e5,O-O,Bg4,Re1,Nf6,Be3,h6,Nbd2,Nd4,c3,Ne6,Qa4+,c6,Qb3,b5,Bxe6,Bxe6,Qc2,Be7,h3,d5,exd5,Bxd5,Rad1,O-O,Ne4,Qc8,Nxe5,Qf5,Ng4,Nxg4,hxg4,Qxg4,Bd4,f5,Ng3,Bd6,Qe2,Qh4,Qh5', 'Bxg3,Qxh4,Bxh4', 'https://lichess.org/training/ZxW3K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXwZL', 'Rapid', 'DR_AID06', 2234, 'Saeed_tz', 2069, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,b6,g6,Nc3,d6,e4,Bg7,Be2,Nbd7,Nf3,O-O,O-O,Nxb6,a4,a5,Ra3,e6,dxe6,Bxe6,Bf4,d5,exd5,Nfxd5,Qc1,Nxf4,Qxf4,Nd5,Nxd5,Qxd5,Rd1,Qf5,Qc1,Rab8,Bb5,Rfd8,Rad3,Bf6,h3,h5,b3,Kg7,Qd2,Rxd3,Qxd3,Rd8,Qe2,Bxb3,Rxd8,Bxd8', 'Qb2+,Bf6,Qxb3', 'https://lichess.org/training/zXwZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXXQh', 'Blitz', 'Arakelyan1', 1880, 'LVrocky', 1880, 'e4,e5,Nc3,Nc6,b3,Bc5,Bb2,Qh4,g3,Qf6,Nf3,Nd4,Bg2,g5,Nd5,Nxf3+,Bxf3,Qc6,Qe2,Qd6,O-O-O,c6,Nc3,h5,h3,a5,Bg2,b5,f4,a4,fxg5,axb3,axb3,Ba3,Nb1,Bxb2+,Kxb2,Qc7,Qf3,Qa5,Rhf1,b4,Qxf7+,Kd8,Qf8+,Kc7,Qg7,Qa2+,Kc1,Qa1,Qxh8,Ra2,d3', 'Qb2+,Kd2,Qxc2+,Ke3,Qe2#', 'https://lichess.org/training/zXXQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXzmE', 'Classical', 'Cartman023', 1637, 'KorradoKattani', 1737, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,Nxe5,Nf6,d3,Be7,Bg5,Bb7,Qf3,h6,Bxf6,Bxf6,Ng4,Bxb2,d4,O-O,O-O,Bxa1,c3,d6,Qg3,Qg5,f4,Qg6', 'f5,Qxg4,Qxg4', 'https://lichess.org/training/zXzmE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zXZqi', 'Blitz', 'IM Prettyfly', 2560, 'Garnik95', 2466, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,g3,e5,Nb3,Be7,Bg2,O-O,a4,Be6,O-O,Nbd7,Re1,Rc8,Nd2,Rxc3,bxc3,Qc7,Bb2,Nb6,a5,Nc4,Nxc4,Bxc4,Ba3,Rc8,Bb4,Be6,Qd2,h6,Rad1,Bg4,f3,Be6,h3,h5,f4,h4,f5,Bc4,g4,Ne8,g5,Qd8,g6,Bg5,Qf2,fxg6,fxg6,Qe7,Bf3,Nf6,Rxd6,Qc7,Be2,Bxe2,Rxe2,Bf4,Qxh4,Rd8,Rd3,Rxd3,cxd3,Qd7,d4,Qb5,Kf2,Qe8,Bd6,Qd8,Bxe5', 'Nxe4+,Rxe4,Qxh4+', 'https://lichess.org/training/zXZqi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZxZU6', 'Rapid', 'silverioalves', 1967, 'VidalTN', 1996, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,c4,c6,Nc3,dxc4,Bxc4,Be7,O-O,O-O,Re1,Nbd7,Bf4,Nb6,Bd3,Nbd5,Bd2,h6,Rc1,Bg4,h3,Bxf3,Qxf3,Re8,Qg3,Nh5,Qg4,Ndf6,Qf5,Qxd4,Ne4,g6,Nxf6+,Nxf6,Qf3,Kg7,Bc3,Qh4,g3,Qh5,Qf4,g5,Qf5,Qg6,Qf3,g4,hxg4,Qg5,Qe4,Qg6,Qd4,Qg5,f4,Bc5', 'fxg5,Bxd4+,Bxd4', 'https://lichess.org/training/ZxZU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zy0sS', 'Rapid', 'donnaanygambits', 1775, 'mohamedmostfa', 1793, 'g3,Nc6,Bg2,d5,d3,e5,Nf3,Nf6,O-O,Be6,b3,Qd7,Bb2,Bh3,e4,d4,Nbd2,Bxg2,Kxg2,h5,h4,Nh7,Rh1,Be7,Nc4,O-O-O,Nfxe5,Nxe5,Nxe5,Qe6,Nf3,f5,Nxd4,Rxd4,Bxd4,f4,Bxa7,fxg3,f3,g5,Bd4,gxh4,Bxh8,Qb6,Qd2,Bg5,Qe2,Nf8,Bc3,Ng6,Bd2,Qc5,Bxg5,Qxg5,Qe1', 'Nf4+,Kf1,g2+', 'https://lichess.org/training/Zy0sS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zY3Rh', 'Blitz', 'chessplay406', 1547, 'Gambit9211', 1597, 'e4,e5,Nf3,Nf6,d4,Nxe4,dxe5,Bc5,Be3,Bxe3,fxe3,O-O,Bd3,Ng5,O-O,Nc6,Nc3,Nxf3+,Qxf3,Nxe5,Qe2,Nxd3,Qxd3,d6,Nd5,Be6,Nf4,Bd7,Rf3,f5,Raf1,Bc6,Rg3,Be4,Qb3+,Kh8', 'Ng6+,hxg6,Rh3+,Qh4,Rxh4#', 'https://lichess.org/training/zY3Rh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZY4de', 'Blitz', 'JUM68', 1781, 'bmv', 1744, 'e4,e5,Bc4,Bc5,c3,Nf6,d3,d5,exd5,Nxd5,Nf3,Bg4,Nbd2,Nc6,Nf1,O-O,Ne3,Bxe3,Bxe3,Nxe3,fxe3,Qf6,O-O,Qg6,Rf2,Kh8,Qf1,Bxf3,Rxf3,f5,Rg3,Qf6,Bb3,Ne7,Rf3,Ng6,Rh3,f4,Qe2,fxe3', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/ZY4de');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zy4Q1', 'Rapid', 'MilanCh', 1734, 'Andriel', 1929, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Bg5,d6,a3,Nxd4,Qxd4,Bxc3+,bxc3,O-O,Bxf6,Qxf6,Qxf6,gxf6,Bd3,Bg4,O-O,h6,h3,Bh5,f4,Bg6,f5,Bh7,Rf4,Rad8,Raf1,d5,Rh4,Kg7,Rf3,dxe4,Bxe4,Rg8,Bd3,c6,Rg3+,Kf8,Rxg8+,Kxg8,Rxh6,Rd5,Rxf6', 'Kg7,Rxf7+,Kxf7', 'https://lichess.org/training/Zy4Q1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zY4Qg', 'Rapid', 'LopeDeVerga', 1850, 'Seytumer', 1843, 'd4,d6,c4,e5,e3,exd4,exd4,Qe7+,Be3,Nf6,Nf3,Ng4,Qd2,Nxe3,fxe3,Bf5,Be2,Nd7,O-O,O-O-O,Nc3,f6,Bd3,g6,Nd5,Qf7,e4,Be6,Nf4,Bg4,Be2,f5,exf5,gxf5,d5,Bh6,g3,Rde8,Rfe1,Nc5,Qd4,Re4,Qxh8+,Kd7,b4,Bxf4,gxf4,Rxf4,bxc5,Qg6,Kf2,dxc5,Rg1,Qh6,h3,Qh4+,Ke3,Re4+,Kd2,Qh6+,Kd3', 'Qe3+,Kc2,Qxe2+,Nd2,Rxc4+', 'https://lichess.org/training/zY4Qg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zy7oP', 'Rapid', 'cycata_blondi', 1861, 'medvedik001', 1808, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,d6,Bd2,a6,h3,b5,Bb3,Nd4,Nxd4,exd4,Bf4,Re8,Qd2,Nxe4,dxe4,Rxe4+,Kf1,Qf6,Bg3,Bb7,Re1,Rae8,Rxe4,Rxe4,f3,c5,Bxd6,c4,Ba2,Re3,Bb4,Qe5,Kf2,Qg5,Qxd4,Re5,Re1,Rd5,Qg4,Qf6,Re8+,Kh7,Qe4+,g6,Rh8+,Qxh8,Bc3,Qd8,Qf4,Rf5,Qe3,Qd1,Qe8,g5', 'Qh8+,Kg6,Qg7+,Kh5,g4+,Kh4,Qxh6#', 'https://lichess.org/training/zy7oP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zy7WE', 'Rapid', 'Alif_PercasiBanjar', 1836, 'Elinmortal', 1834, 'd4,d5,c4,c5,dxc5,Qa5+,Nc3,Qxc5,cxd5,e6,e4,Nf6,e5,Nxd5,Nxd5,exd5,f4,Bf5,Nf3,h6,Bd3,Bg4,h3,Bxf3,Qxf3,Nc6,Be3,Qb4+,Bd2,Qxb2,O-O,Qxd2,Rfd1,Qa5,Kh1,Nd4,Qh5,Ne6,f5,Ng5,h4,Ne4,Bxe4,dxe4', 'e6,g6,exf7+', 'https://lichess.org/training/Zy7WE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZyAcO', 'Rapid', 'dofranck', 2078, 'hooloo', 1999, 'e4,e5,Nc3,Nc6,Nf3,Nf6,g3,Bc5,Nxe5,Nxe5,d4,Bxd4,f4,Nc6,e5,Qe7,Bg2,Nxe5,fxe5,Qxe5+,Ne2,Bb6,c3,O-O,Bf4,Qe6,Qd3,Nh5,Bd2,Re8,Bf3,Nf6,c4,d6,O-O-O,Be3,Nd4,Bxd2+,Rxd2,Qe3,Nb5,Qxd3,Rxd3,Re7,Rg1,Bf5,Ra3,c6,Nxd6,Be6,Re3,Ne8,Nxb7,Rxb7,Bxc6,Rbb8,Bxa8,Rxa8,b3,a5,Rd1,Nf6,Rd6,h6,Kb2,a4,Red3,Kh7,Rc6,axb3,axb3,Rb8,Kc3,Ne4+,Kd4,Nf2,Rd2,Ng4,Kc3,Ne5,Rc7,Nf3,Rf2,Ne5,Re2,Nd7,b4,Nb6,b5,Nc8,Kb4,Nd6,Rd2,Ne4,Rd4,Nf6,Ra7,Ng4,c5,Ne3,Rd3,Nd5+,Ka5,Nf6,b6,Bc4,Rd6,Nd5,Rxf7,Nxb6,Rxb6,Rxb6', 'cxb6,Bxf7,b7', 'https://lichess.org/training/ZyAcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZYav1', 'Blitz', 'Pimposo', 1989, 'gavon', 1930, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,Bd6,Bg3,c5,c3,O-O,Nbd2,Nc6,Ne5,Qc7,f4,b6,Bd3,Bb7,O-O,Ne7,Qf3,a5,Bh4,Ne4,Nxe4,dxe4,Bxe4,Bxe4,Qxe4,f5,Qf3,cxd4,exd4,Bxe5,dxe5,Ng6,Bf2,b5,Rad1,Rfd8,g3,Ne7,Rd4,Rxd4,Bxd4,Rc8,Qd3,Qc6,Rd1,Nd5,b3,Nxc3,Bxc3,Qxc3,Qd7,Qc6,Qe7,h6,Rd7,Qc1+,Kg2,Rc2+,Kh3', 'Qf1+,Kh4,Rxh2#', 'https://lichess.org/training/ZYav1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZYe30', 'Rapid', 'Marcusyeow2011', 1719, 'hanzalyse', 1620, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Bc4,Bg4,f3,Bh5,O-O', 'Qd4+,Kh1,Qxc4', 'https://lichess.org/training/ZYe30');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zyEWn', 'Rapid', 'Samet606060', 1906, 'Simon381', 1903, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,d6,d4,Bd7,Bxc6,Bxc6,dxe5,Nxe4,Nxe4,Bxe4,Bf4,dxe5,Bxe5,Qxd1+,Rxd1,Bxf3,gxf3,c6,O-O,f6,Bc7,Rc8,Rfe1+,Kf7,Rd7+,Kg6,Re4,h5,h4,Bc5,b4,Bf8,a4,a6,Kg2,c5,bxc5,Bxc5,Kg3', 'Rxc7,Rxc7,Bd6+,f4,Bxc7', 'https://lichess.org/training/zyEWn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZyHZc', 'Rapid', 'quibz', 2085, 'Roy_Herman', 2087, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,a6,O-O,e6,Bf4,Nf6,a3,Be7,e5,dxe5,Nxe5,Nxe5,Qxd8+,Bxd8,Bxe5,O-O,Be2,Be7,Rfd1,Bd7', 'Bxf6,Bxf6,Rxd7', 'https://lichess.org/training/ZyHZc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZyldY', 'Rapid', 'itskristjan', 1719, 'CemCimet', 1720, 'b4,d5,e3,e5,b5,c6,a4,Bb4,Ba3,Bxa3,Nxa3,Nf6,Nf3,Bg4,h3,Bh5,g4,Bg6,Nxe5,Ne4,Nxg6,hxg6,Bd3,Qf6,f4', 'Qh4+,Kf1,Qf2#', 'https://lichess.org/training/ZyldY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zyLTS', 'Classical', 'fselpo', 1821, 'cargentey', 1829, 'd4,d5,Nf3,Nf6,e3,Bf5,c4,dxc4,Bxc4,e6,Qb3,Qc8,Nh4,Be4,f3,Bd5,Bxd5,Nxd5,Nc3,c6,e4,Nb4,O-O,Be7,g3,Qd8,Be3,Bxh4,Qxb4,Be7,Qxb7,Nd7,Qxc6,O-O,b3', 'Rc8,Qb5,Rxc3', 'https://lichess.org/training/zyLTS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zyMaT', 'Rapid', 'Gabrieldomal', 1782, 'Blairlogie', 1782, 'e4,d5,exd5,Nf6,Nc3,e6,dxe6,Bxe6,Qf3,Bb4,Qxb7,Qe7,Qxa8', 'Bd5+,Nge2,Bxa8', 'https://lichess.org/training/zyMaT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zYn5P', 'Rapid', 'Olej_Kujawski', 1785, 'pva_78', 1721, 'e4,e5,f4,exf4,Nf3,d6,d4,Qf6,Nc3,Nh6,Nd5,Qg6,Nxc7+,Kd8,Nxa8,Bg4,Bd3,Qf6,c3,Qe6,h3,Bh5,Bxf4,f5,e5,Nd7,O-O,dxe5,Nxe5,Bxd1,Nxd7,Kxd7,Bxh6,gxh6', 'Bxf5,Qxf5,Rxf5', 'https://lichess.org/training/zYn5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZYQbY', 'Rapid', 'tengo12', 2193, 'Kinigos', 2201, 'd4,d5,Bf4,Nf6,Nf3,c5,c3,Nc6,e3,Qb6,b3,Bf5,Bd3,Bxd3,Qxd3,e6,O-O,Nh5,Bg5,f6,Bh4,g5,Bg3,Nxg3,fxg3,Be7,Nbd2,O-O-O,Rfc1,Kb8,c4,g4,cxd5,exd5,Nh4,cxd4,exd4,Nxd4,Kh1,Ba3,Rf1,h5,Rad1,Bb2,Rf4,Ne6,Rf5,Nd4,Rf4,Ne6,Rf5,Qc6,Ng6,Rh6,Ne7,Qd6,Nc4,Qxe7,Nxb2,h4,gxh4,Rxh4', 'Qg3+,Nc7,Qxh4', 'https://lichess.org/training/ZYQbY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zYrMX', 'Rapid', 'Espiguita', 1847, 'maslend', 1836, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,Na5,Bb5,c6,Ba4,b5,Bc2,Bd6,b4,Nb7,Nbd2,O-O,Nf1,Bc7,Ng3,d6,h4,Ng4,Nf5,Bb6,d4,exd4,cxd4,c5,Ng5,Bxf5,exf5,Re8+,Kf1,Nf6,h5,h6,dxc5,dxc5,Qf3,Re7,Qg3,Qe8,Be3,Nd5,Ne4,Nxe3+,fxe3,Rxe4', 'f6,Qf8,Bxe4', 'https://lichess.org/training/zYrMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zYsY8', 'Rapid', 'Iwillblunderagain', 1655, 'Chiwowo', 1633, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,d3,e5,Nf3,Bd6,Be2,O-O,O-O,Nc6,c4,Qe6,Re1,Nd4,Nxd4,exd4,Bg4', 'Qxg4,Qxg4,Bxg4', 'https://lichess.org/training/zYsY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zyTkx', 'Blitz', 'Ardest', 1819, 'MoonEyes47', 1865, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,Nf3,Be7,e3,O-O,cxd5,exd5,Bd3,Bg4,h3,Bh5,Rc1,h6,Bh4,Nbd7,O-O,a6,Bb1,c5,Qc2,cxd4,Nxd4,Bg6,Qe2,Bxb1,Nxb1,Ne5,Nd2,Qb6,N2f3,Nc4,b3,Nd6,Ne5,Nde4,Rc2,Rfd8,Rfc1,Ba3,Nxf7,Kxf7,Rc7+,Kg8,Bxf6,Qxf6,R1c2,b6,Qg4,Bc5,Ne6,Bf8,Nxd8,Rxd8,R2c6,Qxf2+,Kh2,Qxe3,Rg6,Re8', 'Rgxg7+,Bxg7,Qxg7#', 'https://lichess.org/training/zyTkx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZYtL5', 'Classical', 'Ivansaf67a', 1961, 'Md_Samrat_hyder', 1880, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bg5,Qb4+,Bd2,Qxb2,Nc3,Bb4,Rb1,Qa3,Nb5,Qa5,Bxb4,Nxb4,Nc3', 'Nxa2,Qd5,Qxc3+', 'https://lichess.org/training/ZYtL5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZyUdr', 'Rapid', 'aifel', 1725, 'gucelli', 1818, 'd4,d5,Bf4,e6,e3,Bd6,Ne2,h6,h3,Nf6,g4,Bxf4,Nxf4,c6,Bd3,Qc7,Nd2,e5,dxe5,Qxe5,c3,Nbd7,Nb3,Ne4,Qe2,O-O,Bxe4,Qxe4,O-O,Nf6,Nd2,Qe7,Nf3,Ne4,Nd4,Re8,Nf5,Bxf5,gxf5,Qg5+,Ng2,Qxf5,Qg4,Qf6,Nf4,Re5,h4,Qf5,Qxf5,Rxf5,Rad1,a5,Kg2,a4,Rd3,Nc5,Rd4,b5,Kf3,Re8,Ke2,Ne6,Nxe6,Rxe6,Rg4,Kf8,Rfg1,g6,a3,Ke7,Rb1,Ref6,Rg2,Rh5,Rh2,g5,Rbh1,g4,Rg2,Rg6,Rg3,Re5,Kd3,h5,Kd4,Kd6,Rf1,Rge6,f4,Re4+,Kd3,f5,Rb1,c5,b3,c4+,bxc4,dxc4+,Ke2,Rxf4,Rxb5,Rfe4,Rxf5,R6e5,Rf6+,Ke7,Ra6,Rb5,Rxa4,Ree5,Rxc4,Rb2+,Kd3,Ra2,Ra4,Ra1,e4,Rd1+,Kc2,Re1,Ra7+,Ke6,Ra6+,Ke7,Kd3,R1xe4,c4,Re1,Ra7+,Kd6,Ra6+,Kc7,Ra4,Kc6,Rb4,Ra1,a4,Kc5,Rb5+,Kd6,Rb6+,Kc7,Ra6,Kb7,Kd4,Rf5,Rh6,Rxa4,Rb3+,Kc7,Rh7+,Kc6,Rh6+,Kc7,Rbb6,Rf4+,Kc3,Raxc4+,Kb3,Rcd4,Rbg6,Rd7,Rc6+,Kd8,Rxh5,Rb7+,Ka3,Rf1,Rh8+', 'Kd7,Rc2,Ra1+', 'https://lichess.org/training/ZyUdr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZyUeU', 'Rapid', 'Sepehr95', 1993, 'T-Mez', 1866, 'd4,Nf6,e3,e6,a3,c5,dxc5,Bxc5,b4,Be7,Bb2,O-O,Nf3,d5,Bd3,Nbd7,Nbd2,b6,O-O,Bb7,h3,Rc8,Rc1,Qc7,c4,Qd6,c5,bxc5,bxc5,Nxc5,Be5,Qd7,Qe2,Nxd3,Qxd3,Qa4,Rfd1,Qxa3,Qf1,Ba6,Qe1,Rxc1,Rxc1,Bb4,Bxf6,gxf6,Ra1,Bxd2,Nxd2,Qd6,f4,Rb8,Qg3+,Kh8,Qh4,Kg7,Nf3,Qb6,Re1,Qb4,Qg3+,Kf8,Nd4,Rc8,Ra1,Qb6,Qh4,Ke7,Qxh7,Bc4,Qb1,Qxb1+,Rxb1,Ra8,Rb7+,Kf8,Nc6,a5,Kf2,a4,Rb1,a3,Ra1,a2,Nb4,Ke7,Ke1,f5,Kd2,Kf6,Kc3,Kg6,Kb2,Kh5,Nxa2,Bxa2,Rxa2,Rxa2+,Kxa2,Kh4,Kb2,Kg3,h4,Kxg2', 'h5,d4,exd4', 'https://lichess.org/training/ZyUeU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zyUFV', 'Blitz', 'Evgeny005', 2139, 'LolaFloresIsNotDead', 2093, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,c5,Rb1,O-O,Be2,cxd4,cxd4,Qa5+,Bd2,Qxa2,O-O,Qe6,Qc2,b6,Bc4,Qd7,Rfd1,Bb7,d5,Na6,Bb5,Qc8,Qa2,Nc5,Rbc1,Qg4,e5,Rfd8,Be3,a6,Be2,Qf5,Bxc5,bxc5,Rxc5,Bxe5,Nxe5,Qxe5,Bf3,Qd6,Rdc1,Rdc8,Rxc8+,Rxc8,Rxc8+,Bxc8,h3,Bd7,Qa5,Bb5,h4,h6,Qd2,Kh7,h5,g5,Qd4,Qf4,Qc5,Qd6,Qe3,Kg8,Qc3,f5,Qc8+,Kf7,Qxf5+,Qf6,Qh7+,Qg7,Qe4,Qf6,Bg4,Kg7,Be6,Qa1+,Kh2,Qf6,Kg1,Qa1+,Kh2,Qf6,Kg3,a5,d6,exd6,Qb7+,Kh8,Qxb5', 'Qf4+,Kh3,Qh4#', 'https://lichess.org/training/zyUFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zyvej', 'Rapid', 'erce10tekce', 1632, 'litelsnek', 1629, 'd4,f5,Nc3,Nf6,e3,e6,Bd3,Be7,Nf3,O-O,O-O,d5,Ne5,Nbd7,f4,Qe8,Be2,Nxe5,dxe5,Nd7,Rf3,b6,Rg3,Bb7,Bh5,g6,Bf3,Rb8,a3,d4,Bxb7,Rxb7,exd4,c5,dxc5,Bxc5+,Kh1,Rb8,Qh5,Rf7,Qh3,Rd8,Be3,Bxe3,Rxe3,Nc5,b4,Ne4,Nxe4,fxe4,Rxe4,Rd2,c4,Qd8,Qf3,Rd3,Re3,Rxe3,Qxe3,Rd7,h3,Rd3,Qe2,Qd4,Rf1,Qxc4,Rd1', 'Rxh3+,gxh3,Qxe2', 'https://lichess.org/training/zyvej');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zyWO4', 'Rapid', 'foucheta', 2137, 'todor680816', 2148, 'e4,d6,Nf3,g6,d4,Bg7,Be3,Nf6,h3,O-O,Nc3,c6,Qd2,Nbd7,g4,h5,g5,Nh7,O-O-O,Qa5,Nh4,c5,f4,b5,Bxb5,a6,Bc4,Bb7,Nxg6,Rfe8,Nh4,cxd4,Bxd4,Bxd4,Qxd4,Rec8,g6,Nhf6,gxf7+,Kh7,Rhg1,Qb4,e5,Rxc4,Qd3+,Ne4,Qf3,Nef6,exf6,Bxf3', 'Rg7+,Kh8,Ng6#', 'https://lichess.org/training/zyWO4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zYx6S', 'Rapid', 'PleaseJenkins', 1902, 'Laki2006', 1896, 'e4,g6,d4,Bg7,Nc3,b6,f4,Bb7,Nf3,e6,Be3,Ne7,Bc4,O-O,Qd2,d5,exd5,exd5,Be2,c6,O-O-O,Nf5,Bf2,a5,h4,b5,h5,b4,Na4,Nd7,b3,Nb6,Nc5,Bc8,g4,Nd6,g5,a4,hxg6,fxg6,Rh2,axb3,cxb3,Bf5,Rdh1,Ne4,Nxe4,Bxe4,Rxh7,Ra7,R1h2,Qd7,Ne5,Qe6,Bg4,Qd6,Be3,Re7,Bf3,Bxf3,Nxf3,Qe6,Ne5,Nd7,Nxd7,Qxd7,Qd3,Qf5,Qxf5,gxf5,Bd2,Ra8,Kb2', 'Bxd4+,Kb1,Rxh7,Rxh7,Kxh7', 'https://lichess.org/training/zYx6S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZyxWL', 'Blitz', 'Ri0tcrew', 1787, 'mcxon', 1716, 'd4,e6,c4,f5,g3,Nf6,Bg2,c6,Nc3,h6,e4,fxe4,Nxe4,Be7,Ne2,O-O,O-O,d5,Nd2,Nbd7,b3,e5,dxe5,Nxe5,Nf4,Bg4,Qc2,Nh5,Nxh5,Bxh5,cxd5,cxd5,Bxd5+,Kh8,Bg2,Bf6,Rb1,Rc8,Nc4,Bg6,Be4,Nf3+,Kg2,Bxe4,Qxe4,Bd4,Bb2,Bxb2,Rxb2,Ng5,Qxb7,Qd4,Rd2,Qc3,Qd5,Rcd8,Qxd8', 'Qf3+,Kg1,Nh3#', 'https://lichess.org/training/ZyxWL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zYzH9', 'Blitz', 'andahuaylas2050', 1949, 'GodChessYou', 1672, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,Bd6,Bg3,O-O,e3,c6,Nf3,Ne4,Rc1,f5,Be2,Nxg3,hxg3,Qc7,O-O,Rf6,cxd5,exd5,Nb5,Qe7,Nxd6,Qxd6,a3,Be6,b4,a6,Rb1,Nd7,a4,Rh6,Qc2,Nf6,Qc5,Qc7,Rfc1,Ng4,b5,axb5,axb5,Ra2,Rc2,Rxc2,Qxc2,Qf7,Ne5,Rh1+,Kxh1', 'Qh5+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/zYzH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zyzUK', 'Classical', 'adamsky', 1929, 'RemyAndre', 1735, 'd4,Nf6,c4,c5,d5,g6,Nc3,Bg7,e4,O-O,Nf3,e6,Be2,exd5,cxd5,b6,Bg5,d6,Rc1,Nbd7,Nb5,Qe7,Nc7,Rb8,Nb5,h6,Bf4,g5,Bxd6,Qxe4,Bxf8,Bxf8,Nc3,Qb4,Qc2,Bb7,Rd1,Re8,O-O,Bd6,Bb5,Bc8,a3,Qf4,Bxd7,Bxd7,Rfe1,Rxe1+,Rxe1,Bg4,Ne4,Bxf3,Nxf6+,Qxf6,gxf3,Qxf3,Qe4,Qh5,Qg2,Qg6,Rf1,Qc2,f3,Qd3,Qg4,Qxd5,h4,Qd4+,Kg2,Qxb2+,Rf2,Qf6,hxg5,Qxg5,Kh3,f5,Qc4+,Kg7', 'Rg2,Kf6,Rxg5', 'https://lichess.org/training/zyzUK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZYZvM', 'Rapid', 'amsamms', 1814, 'gorshkov2011', 1907, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Bg4,O-O,Be7,Bf4,O-O,c3,c6,Nbd2,Nbd7,a4,Nh5,Bg3,Nxg3,fxg3,Nf6,Qc2,h6,Ne5,Be6,Rf4,Bd6,Raf1,Qc7,Rxf6,gxf6,Rxf6,Bxe5,Rxh6,Bg7', 'Bh7+,Kh8,Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/ZYZvM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZ3aY', 'Blitz', 'jameel_alsodany', 1952, 'mjsheykhaboli1993', 1840, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bd3,Qb6,O-O,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Re1,Bc5,Be3,Qb4,a3,Qb6,Bxc5,Qxc5,Nc3,Ne7,Rc1,Qb6,b4,O-O,Qh5,Ng6,Re3,d4,Rh3,h6,Ne4,Nf4,Nf6+,Kh8', 'Qxh6+,gxh6,Rxh6+,Kg7,Rh7#', 'https://lichess.org/training/zZ3aY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zz3Eb', 'Rapid', 'zaiusbilong_xx', 1748, 'lakinono', 1611, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,c6,Nf3,f6,O-O,h5,d4,h4,Re1,Qf7,b3,Qg6,Bf1,Bh3,Re4,Bxg2,Bxg2,h3,Nh4', 'Rxh4,Qf3,Rxe4', 'https://lichess.org/training/zz3Eb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZ6dG', 'Rapid', 'jovial69', 1939, 'iserejka', 1905, 'e4,e5,f4,Nc6,Nf3,d6,d3,Bg4,Be3,h6,Nbd2,Nd4,h3,Bxf3,Nxf3,Nxf3+,Qxf3,c5,fxe5,dxe5,Be2,Qb6,O-O,Nf6,b3,Be7,Qf5,Qd6,Rad1,b6,c3,O-O,d4,exd4,cxd4,Qd7,Qf3,Qe6,e5,Nd5,dxc5', 'Nxe3,Qxe3,Bxc5,Qxc5,bxc5', 'https://lichess.org/training/ZZ6dG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZ79l', 'Bullet', 'Robert_14', 1934, 'MasterSili', 2242, 'd4,Nf6,Nc3,e6,Bg5,h6,Bh4,Bb4,a3,Bxc3+,bxc3,b6,f3,d5,e3,c5,Bb5+,Nbd7,Bc6,Rb8,Bg3,Ba6,Bxb8,Qxb8,Ne2,O-O,Bxd7,Nxd7,O-O,e5,Re1,Qd6,Ng3,Qe6,a4,Bc4,a5,b5,f4,e4,f5,Qf6,Qg4,Qg5,Qxg5,hxg5,Nh5,f6,g4,Rb8,Rab1,Kf7,Kf2,a6,h3,Rh8,Rh1,Nb8,Kg3,Nc6,Ra1,Rb8,Rhb1,cxd4,cxd4,b4,h4,Rb5,hxg5,fxg5,Kf2,Nxa5,Ng3,b3,cxb3,Bd3,Rb2,Kf6,b4,Nc4,Rxa6+,Kf7,Ra7+,Kf8,Rba2,Rxb4,Ra8+,Ke7,R2a7+,Kd6,Rxg7,Rb2+,Kg1,Nxe3,Nh5,Rb1+,Kf2,Nxg4+,Kg3', 'Rg1+,Kh3,Bf1#', 'https://lichess.org/training/zZ79l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZAOk', 'Rapid', 'Scaredpeach', 1830, 'good_game1', 1830, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Be7,Bxc6+,bxc6,d4,exd4,Qxd4,Bf6,Qc4,Bd7,Re1,Ne7,Bg5,Bxg5,Nxg5,O-O,Nc3,d5,exd5,Nxd5,Rad1', 'Qxg5,Nxd5,cxd5', 'https://lichess.org/training/ZZAOk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZAuU', 'Rapid', 'Roslye', 2271, 'Killer_BM', 2139, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bb5+,c6,Bc4,e6,Nge2,Nf6,O-O,Be7,d4,O-O,Ng3,e5,d5,Bd6,Bg5,Nbd7,Nce4,cxd5,Nxf6+,gxf6,Bh6,Nc5,Bxd5,Rd8,c4,Bf8,Qh5,Bxh6,Bxf7+,Kg7,Be8,Qc7,Rad1,Be6,Nf5+,Bxf5,Qxf5,Rxe8,b4,Ne6,Rd3,Nf8,h4,Qf7,h5,Rad8,Rg3+,Bg5,h6+,Kh8,Rxg5,Ng6,Rg4,Nf4', 'Rg7,Qxg7,hxg7+', 'https://lichess.org/training/zZAuU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zzBdl', 'Rapid', 'smorc73', 1761, 'MauricioColombia', 1765, 'Nf3,Nc6,d4,Nf6,Bf4,d5,Nc3,e6,Qd3,Bd6,Ne5,Nxe5,dxe5,Nh5,Qb5+,c6,Qa4,Nxf4,Qxf4,Bc7,e4,f6,exd5,Bxe5,Qg4,f5,Qh5+,g6,Qe2,Bxc3+,bxc3,Qxd5,Qe3,Bd7,Rb1,b5,Qd4,Ke7', 'Qg7+,Kd6,Rd1', 'https://lichess.org/training/zzBdl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZBGT', 'Rapid', 'shapovaldenis', 1707, 'akarimii', 1646, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,e6,Bc4,a6,d4,c5,d5,b5,Be2,Nf6,dxe6,Qxd1+,Bxd1,Bxe6,O-O,h5,Bg5,Ng4,h3,Nh6,a4,b4,Ne4,Nd7,Re1,Bd5,Nxc5+,Be6,Nxe6,fxe6,Rxe6+,Kf7,Re1,Nf5,Ne5+,Nxe5,Rxe5,Kg6,Be3,Bd6,Rd5,Rae8,g4,hxg4,hxg4,Bh2+,Kf1,Nxe3+,fxe3,Rhf8+,Ke2,Bg3,c3,Rf2+,Kd3,Rxb2,cxb4,Rxb4,Bc2,Kf7,Kc3,Reb8,Rf5+,Kg8,Rh1,Rxg4,Rf3,Be5+,Kd3', 'Rd8+,Ke2,Rg2+,Rf2,Rxf2+,Kxf2,Rd2+,Kf3,Rxc2', 'https://lichess.org/training/zZBGT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZd4J', 'Rapid', 'iamphysic', 1838, 'Salim_chess', 1841, 'e4,e5,Nf3,Nc6,Nc3,f5,Bc4,Nf6,d3,f4,O-O,d6,d4,Bg4,h3,Bh5,Bb5,a6,Bxc6+,bxc6,dxe5,Bxf3,Qxf3,dxe5,Rd1,Bd6,b3,O-O,Bb2,Qe7,Rd2,Kh8,Rad1,Rad8,Qe2,h6,Qxa6,Ra8,Qxc6,Bb4,a4,f3,Nd5,Nxd5,Rxd5,fxg2,Rxe5,Qh4,Rf5,Qxh3,f4,Qh1+,Kf2,Qxd1', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/ZZd4J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZd8M', 'Rapid', 'miracle_caranggesang', 1696, 'CVD-19', 1940, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,d5,Nbd7,Bd3,Nc5,Be3,Nxd3+,Qxd3,c6,O-O,Nd7,Rfe1,cxd5,cxd5,Ne5,Nxe5,Bxe5,Bd4,Bxd4,Qxd4,Bd7,a3,b6,Rac1,Rc8,h3,Qc7,Nb5', 'Qxc1,Rxc1,Rxc1+,Kh2,Bxb5', 'https://lichess.org/training/zZd8M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZG10', 'Rapid', 'Ruslan_Nikitin_1987', 2168, 'abohashm22', 2272, 'e4,d5,exd5,c6,dxc6,Nxc6,h3,e5,Nc3,Bc5,Nf3,Nf6,d3,Qb6,Qe2,Be6,Bd2,O-O-O,Na4,Qb5,Nxc5,Qxc5,c3,Bf5,Qe3,Qb5,O-O-O,Bxd3,Qg5,Bxf1,Rhxf1,Qa4,Qxg7,Ne4,Qg4+,Kb8,Be3,Rxd1+,Rxd1,Rc8,Ng5,Nb4,Qxe4,Nxa2+,Kd2', 'Rd8+,Bd4,exd4', 'https://lichess.org/training/ZZG10');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZGBK', 'Blitz', 'aal24', 1668, 'MohamedBouazama', 1680, 'd4,d5,c4,e5,e3,exd4,exd4,c5,cxd5,Qxd5,Nf3,cxd4,Nc3,Bb4,Qa4+,Nc6,Bb5,dxc3,Bxc6+,Qxc6,Qxb4,cxb2,Bxb2,Qe6+,Kf1,Ne7,Re1,Qa6+,Kg1,Be6,Bxg7,Nc6,Qd6,Rd8,Rxe6+', 'fxe6,Qxe6+,Ne7,Qxa6,bxa6', 'https://lichess.org/training/ZZGBK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZGh4', 'Rapid', 'Stjarndamm', 1914, 'Alcachofass', 1955, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,O-O,O-O-O,Ng4,Bf4,e5,f3,Nf6,Bh6,exd4,Bxg7,Kxg7,Ne2,Nc6,h4,a5,g4,h5,gxh5,Nxh5,Nxd4,Rh8,Nf5+,Bxf5,exf5,Ng3,Rg1,Nxf5,Bc4,Ne5,Qc3,Qe7,f4,Nxh4,fxe5,Qxe5,Qa3,b5,Bd5,Ra7,Rge1,Qf6,Rf1,Nf5,Rf3,Qg5+,Kb1,Qg4,Rdf1,a4,Qc3+,f6,Qe1,Rh2,Rg1,Qh5,Qe6,Rg2,Qg8+,Kh6,Qf8+,Rg7,Re1,Qh4,Rd1,Qd4,Rxd4', 'Rg1+,Rf1,Rxf1+,Rd1,Rxd1#', 'https://lichess.org/training/ZZGh4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZHN8', 'Rapid', 'Monyassa', 2338, 'QuickProQuo', 2255, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,c3,Bc5,Be3,Bb6,Bb5,Qf6,O-O,a6,Ba4,Nge7,Nd2,O-O,N2f3,d6,Bc2,Bg4,h3,Nxd4,hxg4,Nxc2,Bg5,Qe6,Qxc2,Ng6,Nd4,Qxg4,Be3,Ne7,f3,Qg6,Qf2,Rae8,Rae1,Qf6,Qg3,Ng6,Nf5,Bxe3+,Rxe3,Re5,f4,Rb5,b3,Re8,Nd4,Ra5,a4,Qh4,Qxh4,Nxh4,Rh3,Ng6,Re3,c5,Nf5,c4,Nxd6,Re7,Nxc4,Rc5,f5,Nf8,e5,b5,axb5,axb5,f6,Re6,fxg7,bxc4,gxf8=Q+,Kxf8,b4,Rcxe5,Ref3,Re7,Rf4,Rc7,R1f3,Re2,Rh3,Kg7,Rhh4,Rd7,Rxc4,Rd1+,Kh2,f5,Rc7+,Kg6,Rhxh7,Rdd2,Rhg7+,Kf6,c4,f4,b5,Rf2,Rcf7+,Ke6,Kh3,Rd4,Rc7,Rc2,Rg6+,Kf5,Rgc6,Rd3+,Kh2,f3,Rf7+,Kg5,Rg7+,Kf5,b6,Rdc3,b7,Rb2,Rc8,fxg2,b8=Q', 'g1=Q+,Kxg1,Rc1#', 'https://lichess.org/training/zZHN8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZhnA', 'Classical', 'LARODASH2013', 1999, 'HankZpon', 1893, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d4,c5,c3,Be7,Be3,O-O,Ne2,Be6,dxc5,Nc6,Bc2,d4,cxd4,Bd5,O-O,Ng4,h3,Nxe3,fxe3,Qc7,Bb3,Bxg2,Kxg2,Bh4,Nd2,Rae8,Nf3,g5,Nxh4,gxh4,Rf3,Kh8,Nf4,Rxe3,Rxe3,Qxf4,Qf3,Rg8+,Kf2', 'Qh2+,Ke1,Rg1+', 'https://lichess.org/training/ZZhnA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZhSK', 'Blitz', 'FM hectorluis2019', 2407, 'zenemijorhtej', 2196, 'e4,g6,d4,Bg7,Nc3,d6,f4,c6,Nf3,Bg4,e5,dxe5,fxe5,Bxf3,Qxf3,Qxd4,Bf4,Bxe5,Bxe5,Qxe5+,Be2,Nf6,O-O-O,O-O,Rhe1,Nbd7,Bc4,Qg5+,Kb1,Ne5,h4,Nxf3,hxg5,Nxe1,gxf6,exf6,Rxe1,Rfe8,Rf1,Kg7,g4,Rad8,Bd3,Rd4,Rg1,b5,Kc1,b4,Na4,Re5,b3,Rg5,Be2,h5,Nb2,hxg4,Nd3,g3,Bf3,a5,Kd2,Rh4,Ke3,Rh2,Rg2,Rxg2,Bxg2,Rh5,Kf3,Rg5,Kf4,Rh5,Kxg3,g5,Bxc6,f5,Bf3,f4+,Kg4,Rh2,Kxg5,Rxc2,Kxf4,Rxa2,Nc5,Kf6,Ke4,Ke7,Kd5,Rf2,Be4,f5,Bd3,Kf6,Bc4,Kg5,Kd4,Kg4,Ke3,Rc2,Na4,f4+,Kd3,Rc1,Kd2,Ra1,Nc5,Rg1,Ke2,Rg2+,Kf1,Rc2,Be6+,Kf3,Nd3,Rd2,Ne1+,Ke3,Ng2+,Kd4,Nh4,Ke5', 'Nf3+,Kxe6,Nxd2,Ke5,Nc4+', 'https://lichess.org/training/zZhSK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZiJA', 'Classical', 'venug', 1673, 'NickelAnge', 1759, 'e4,a6,d4,c5,dxc5,e6,b4,Nc6,a3,Nge7,Nf3,f6,Bd3,Ng6,O-O,Nce5,Nxe5,Nxe5,Qh5+,g6,Qh4,Nxd3,cxd3,Bg7,d4,f5,Qxd8+,Kxd8,e5,Kc7,Nc3,b6,Na4,bxc5,bxc5,Bb7,Rb1,Rab8,Bd2,Be4,Ba5+,Kc6,Rb6+,Rxb6,Bxb6,Kd5,Rd1', 'Bc2,Nc3+,Kc4,Rd2,Kxc3', 'https://lichess.org/training/ZZiJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZL3w', 'Classical', 'Notwerk', 1972, 'hntosh', 2364, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,Nxe5,Be7,Nd2,O-O,Ndf3,Nf5,c3,c5,d5,Bd6,c4,Re8,Ng4,Nh4,h3,Bf5,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/ZZL3w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZlWt', 'Blitz', 'I_am_in_Youtube_now', 1610, 'peskowitz9', 1557, 'e4,e5,Nf3,Nf6,Bc4,Nc6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nb4,a3,Nxc2+,Kd1,Nxa1,Bxd5+,Kd6,Nb5+,Kc5,b4+,Kxb5,Qd3+,Kb6,a4,Bg4+,f3,a5', 'Qb5+,Ka7,Qxb7#', 'https://lichess.org/training/zZlWt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zzm9N', 'Rapid', 'uncas5', 1831, 'praoden', 1835, 'd4,d5,c4,dxc4,e4,Nf6,e5,Nd5,Bxc4,Bf5,Bxd5,Qxd5,Nf3,Nc6,Nc3,Qd7,O-O,e6,h3,Be7,d5,exd5,Qxd5,O-O-O,Qxf7,h5,Qc4,Bd3,Qb3,Bxf1,Kxf1,Nd4,Nxd4,Qxd4,Be3,Qxe5,a4,Qh2,Ke2,Qxg2,a5,Rhf8,Rd1,Qf3+,Ke1,Rxd1+,Nxd1,Bh4,Qe6+,Kb8,Qb3,Qh1+,Ke2,Qxh3', 'Bxa7+,Kxa7,Qxh3', 'https://lichess.org/training/zzm9N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZMtt', 'Rapid', 'A_P', 1623, 'doctorpwn', 1649, 'e4,c5,Nc3,Nc6,Nf3,a6,a3,d6,h3,Nf6,Bc4,b5,Ba2,b4,axb4,cxb4,Nd5,Nxe4,d3,Nc5,Ng5,e6,Nxf7,Kxf7,Qh5+,g6,Qf3+,Kg7,Ne3,Qd7,h4,Bb7,Qg3,Be7,h5,g5,Nc4,h6,f4,Rhg8,fxg5,Kh7,g6+,Kh8,Bxh6,Bf6,O-O-O,d5,Nd6,Nd8,Rdf1,Bxb2+,Kxb2,Na4+,Ka1,Qc7,Rf7', 'Qc3+,Kb1,Qb2#', 'https://lichess.org/training/zZMtt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZMUc', 'Blitz', 'lev_lev', 1606, 'gargnitish', 1551, 'd4,d5,Nf3,Bf5,Bf4,Nf6,e3,Nc6,c3,a6,Nbd2,e6,a4,h6,h4,Bd6,Ne5,Bxe5,dxe5,Nd7,Nf3,Ndxe5,Nxe5,Nxe5,Bxe5,f6,Bf4,O-O,g4,Be4,g5,Bxh1,gxh6,gxh6,Bxh6,Rf7,Qh5,Be4,Qg4+,Kh7,Bf4,Qg8', 'Qh5+,Kg7,Qh6#', 'https://lichess.org/training/zZMUc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zzn5R', 'Rapid', 'TheDrummerPenguin', 2004, 'SpillYourGuts', 2041, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,f4,a6,fxe5,Nxe5,Nd4,Bg4,Be2,Be7,O-O,Bxe2,Qxe2,Qb6,Be3,Qxb2,Nd5,Nxd5,exd5,Qa3,Nf5,Bf6,Bf4,O-O,Rab1,b5,Bxe5,Bxe5,Qg4,Qxa2,Rbc1,Qxd5', 'Ne7+,Kh8,Nxd5', 'https://lichess.org/training/zzn5R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Zzo26', 'Blitz', 'Dikkop', 1894, 'jaoudari', 1754, 'd4,Nf6,c4,e6,e3,g6,Nf3,Bg7,Bd3,d5,cxd5,exd5,Nc3,O-O,O-O,Re8,Re1,Nbd7,Qc2,c5,a3,c4,Be2,Nb6,Nb5,Bf5,Qd2,Ne4,Qd1,Qd7,Nc3,Nc8,Nh4,Ncd6,Nxf5,Qxf5,Bf3,Nxc3,bxc3,Ne4,Bxe4,Qxe4,a4,b6,Ba3,f5,Bd6,g5,Qh5,f4,Qxg5,fxe3,Rxe3,Qc2,Be5,Rxe5,Rxe5,Rf8,Rf1,Qxc3,Re7,Qxd4,Rfe1', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/Zzo26');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZoiR', 'Blitz', 'kaartk', 1968, 'jazzjerom', 1680, 'e4,e5,Bc4,Nc6,Nc3,Nf6,d3,Bb4,Ne2,Na5,Bb3,O-O,O-O,Nxb3,axb3,c6,Bg5,Re8,Na2,Be7,c3,d5,Qc2,h6,Bh4,g5,Bg3,Bd6,Rad1,Nh5,f3,d4,Nac1,c5,c4,Nf4,Nxf4,exf4,Bf2,Qa5,Ne2,Qb4,g3,Bh3,Rfe1,fxg3,Bxg3,Bxg3,Nxg3,Qb6,Nh5,Qg6,Ng3,h5,Qf2,h4,Nh1,Kh7,Rd2,Rg8,Qe2,g4,f4,g3,hxg3,hxg3,f5,Qh6,Rc2,Rg4,Qf3,Rf4,Qd1,Rg8,Qc1,Bg2,Rxg2,Qh2+,Rxh2+', 'gxh2+,Kxh2,Rh4#', 'https://lichess.org/training/zZoiR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZzOmF', 'Rapid', 'kaj21', 1733, 'Solomon688', 1886, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Na5,Qxd4,Nxc4,Qxc4,Be7,Ne5,d5,exd5,Qd6,Bf4,Qb4+,Qxb4,Bxb4+,c3,Bd6,O-O,f6,Nd3,Bxf4,Nxf4,Nh6,Re1+,Kf7,Nd2,Bd7,Nf3,Rhe8,c4,Rxe1+,Rxe1,Re8,Rxe8,Bxe8,b3,b5,Ne6,bxc4,bxc4,c6,Nf4,Nf5,g4,Nd6,Nd2,cxd5,Nxd5,Nb7,Nb3,Bc6,f4,Bxd5,cxd5,Ke7,Nd4,Kd6,Nf5+,Kxd5,Nxg7,Ke4,f5,Kf4,h3,Kg3,g5,fxg5,f6,Nd6', 'Nf5+,Nxf5,f7,Nd4,f8=Q', 'https://lichess.org/training/ZzOmF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zzpMn', 'Rapid', 'AldusHuxley', 1756, 'Demetrio_16', 1751, 'd4,d5,c4,c6,Nc3,Nf6,e3,Bf5,Nf3,Nbd7,cxd5,cxd5,Bb5,e6,O-O,Bd6,Nh4,Bg4,f3,Bh5,g4,Bg6,e4,Bb4,e5,Ng8,Bxd7+,Kxd7,Ng2,h5,Nf4,hxg4,fxg4,Qh4,Rf2,Ne7,h3,f5,Qa4+,Nc6,Nxg6,Qg3+,Rg2,Qe1+,Kh2,Rh6,Bxh6,Qxa1,Bxg7,Rg8,Rg1', 'Qxb2+,Rg2,Qxc3,gxf5,Rxg7', 'https://lichess.org/training/zzpMn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZPvc', 'Rapid', 'Jorjik11', 1631, 'DwarfRipan', 1648, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Be2,Bb4,d3,Bxc3+,bxc3,O-O,O-O,d5,exd5,Nxd5,Bb2,Re8,c4,Ndb4,a3,Na6,Re1,Qf6,Bc1,Nd4,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/zZPvc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZQ21', 'Rapid', 'BigJek', 1971, 'follett', 1983, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Qe2,e6,g3,Ngf6,Bg2,Nxe4,Bxe4,Nf6,Bd3,Qxd4,Nf3,Qd8,b3,Be7,Bb2,O-O,h4,Re8,h5,h6,O-O-O,Qa5,g4,Nd5,Qe4,f5,gxf5,Nc3,Bxc3,Qxc3,fxe6', 'Ba3+,Kb1,Qb2#', 'https://lichess.org/training/ZZQ21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZqcU', 'Blitz', 'Mauro_Gadda', 1578, 'Bribon81', 1667, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,Nbd2,Bf5,a3,Qe7,g3,O-O-O,Nb3,Nxe5,Bg2,Nxf3+,Bxf3,Bh3,Nxd4,c5,Bf4,Rxd4,Qb3,Nf6,e3,Rd7,Ke2,Bg4,Rhd1,Bxf3+,Kxf3,Qe4+,Ke2,Be7,f3,Qc6,Rxd7,Nxd7,Rd1,Rd8,h4,f6,g4,g5,hxg5,fxg5,Bg3,h6,Rh1,Nb6,Qc3,Qd7,Qc2,Nxc4,Rxh6,Qb5,Qf5+,Rd7', 'Rh8+,Bd8,Rxd8+,Kxd8,Qf8#', 'https://lichess.org/training/zZqcU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zzqtt', 'Classical', 'GrantBarkway', 1677, 'ruberkel05', 1659, 'e4,g6,d4,Bg7,Nf3,d6,c4,e5,d5,f5,exf5,gxf5,Nc3,Nf6,Be2,O-O,O-O,Na6,Bg5,Qe8,Bxf6,Rxf6,a3,Rh6,b4,e4,Nd4,Be5,g3,f4,b5,f3,Bxf3,exf3,bxa6,Bxd4,Qxd4,Qh5,h4,Qg6,axb7,Bxb7,Nb5,Qf5,Qf4,Qxf4,gxf4,Rg6+,Kh2,Rg2+,Kh3', 'Bc8+,f5,Bxf5#', 'https://lichess.org/training/zzqtt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZzR7G', 'Rapid', 'alfaco', 2041, 'Javierof', 1817, 'e4,e6,d4,d5,Nc3,Bb4,h4,dxe4,a3,Bxc3+,bxc3,Nf6,g4,c5,g5,Nd5,Bd2,Qc7,Qg4,f5,gxf6,Nxf6,Bb5+,Nc6,Qg5,cxd4,cxd4,O-O,Ne2,Bd7,Rg1,Be8,Bc4,Nd5,h5,h6,Qxh6,Qf7,Nf4,Nxd4,O-O-O,Rc8,Nxe6,Rxc4', 'Rxg7+,Qxg7,Qxg7#', 'https://lichess.org/training/ZzR7G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zzrd7', 'Blitz', 'jokero92', 1521, 'youssefluckluck', 1851, 'e4,c6,d4,d6,Nf3,g6,Be2,Bg7,O-O,Bg4,c3,Qc7,Nbd2,Nd7,h3,Bxf3,Nxf3,O-O-O,a4,h6,a5,a6,b4,g5,c4,e6,b5,c5,bxa6,bxa6,Rb1,Ne7,e5,dxe5,dxc5,Nxc5,Qc2,f5,Qb2,Nc6,Nh2,e4,Qb6,Qxb6,Rxb6,Kc7,Ba3,Nd4,Bxc5,Nxe2+,Kh1,h5,Rfb1,Bd4,Rb7+,Kc6,Bxd4,Rxd4', 'R1b6+,Kc5,Rc7#', 'https://lichess.org/training/zzrd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZrfn', 'Rapid', 'anonymus2456', 1805, 'Nikolay_Panchuk', 1653, 'e4,a6,Nf3,d6,d4,e6,Bd3,h6,Nc3,Nf6,O-O,d5,Be3,dxe4,Nxe4,Nxe4,Bxe4,Bd6,Ne5,O-O,f4,c6,c4,Nd7,Bc2,Nf6,Qd3,Qc7,Ng4,g6,Nxf6+,Kg7,d5,Be7,Ng4,h5,Bd4+,Kh7,f5,exf5,Rxf5,Bxf5,Qxf5,gxf5', 'Bxf5+,Kg8,Nh6#', 'https://lichess.org/training/ZZrfn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zzTMX', 'Rapid', 'soldat57', 2030, 'Dymytry', 2114, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,d6,Bc4,e6,f5,exf5,d3,fxe4,dxe4,Bg7,O-O,Nf6,Bxf7+,Kxf7,Ng5+,Kg8,Rxf6,Bxf6', 'Qd5+,Kg7,Qf7+', 'https://lichess.org/training/zzTMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZuh6', 'Blitz', 'jhonny_vasilev', 1568, 'gobinday', 1502, 'e4,e5,Nf3,d6,Bc4,h6,c3,Nc6,Qb3,Qe7,d4,exd4,cxd4,a6,Nc3,Nf6,O-O,g5,Re1,Na5,Qa4+,Nc6,d5,Bd7,dxc6,Bxc6,Qb3,O-O-O,e5,Ng4,exd6,Qxd6,Bxf7,Bxf3,gxf3', 'Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/ZZuh6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zzUHB', 'Rapid', 'MrStockfishy', 2018, 'Bake99', 1818, 'e4,c5,Nf3,e6,d4,d5,dxc5,Bxc5,exd5,Qxd5,Qxd5,exd5,Nc3,Ne7,Bf4,a6,O-O-O,Be6,Nd4,Bxd4,Rxd4,Nbc6,Rd1,O-O,Kb1,b5,g3,Rfd8,Bg2,h6,Rhe1,Rac8,a3,b4,axb4,Nxb4,Bf1,a5,Rd2,Ng6,Red1,Nxf4,gxf4,Bf5,Bg2,d4,Ne4,Bg4,f3,Bf5,c3,Nc6,cxd4,Nb4,d5,a4,d6,Be6,Rc1', 'Ba2+,Ka1,Rxc1#', 'https://lichess.org/training/zzUHB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZuTO', 'Rapid', 'bratobov', 1831, 'OAEIOAEO', 1846, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nge2,O-O,g3,Re8,Bg2,Nc6,a3,e5,d5,Ne7,O-O,Bg4,f4,c6,Kh1,cxd5,cxd5,a6,Bf3,Bh3,Bg2,Bg4,h3,Bd7,fxe5,dxe5,d6,Nc6,Bg5,Be6,Bxf6,Bxf6,Nd5,Bg7,Nec3,Qxd6', 'Nf6+,Bxf6,Qxd6', 'https://lichess.org/training/ZZuTO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZWE4', 'Rapid', 'pillage', 2085, 'dewa_kasur21', 2115, 'e4,e5,d4,exd4,Qxd4,Nf6,Nc3,Nc6,Qe3,Bb4,Bd2,O-O,O-O-O,d6,h3,Re8,f3,Bc5,Qe1,Be6,Bg5,a6,Kb1,h6,Bh4,g5,Bf2,Bb4,h4,g4,fxg4,Nxg4,Be3,h5,Be2,Nce5,Bg5,Qc8,Nf3,b5,Nxe5,dxe5,Qg3,Bxc3,bxc3,c5,Bxg4,Bxg4,Bf6,Qe6,Rd5,Qxf6,Rhd1,Rac8,Rd6,Re6,Rxe6,Qxe6,Rd5,b4,Rxe5,Qc4,Rg5+,Kf8', 'Qd6+,Ke8,Rg8#', 'https://lichess.org/training/ZZWE4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zZwXQ', 'Blitz', 'theedza', 1838, 'notapro31', 1855, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Ba4,Be7,d4,Nxd4,Nxd4,exd4,Qxd4,O-O,c4,Nf5,Qe4,d6,g4,Nh4,Qxe7,Nf3+,Kf1,Nxe1,Qxd8,Rxd8,Kxe1,Bxg4,Bg5,Re8+,Bxe8,Rxe8+,Kf1', 'Bh3+,Kg1,Re1#', 'https://lichess.org/training/zZwXQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZX5b', 'Classical', 'alexshilov', 1715, 'BrinyChange', 1707, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,e6,Nf3,d6,Nc3,Be7,Bc4,Nf6,Bg5,O-O,Qe2,h6,Bh4,Re8,O-O-O,Qb6,Rhf1,Qc7,Bg3,a6,e5,Nh5,exd6,Nxg3,hxg3,Bxd6,Qe4,b5,Bd3,f5,Qe3,Bb7,Bxb5,f4,Qd3,Rad8,Bxa6,fxg3,Bxb7', 'Bf4+,Kb1,Rxd3', 'https://lichess.org/training/ZZX5b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zzXRe', 'Rapid', 'bravus100', 1947, 'lightibrahim', 1957, 'd4,d5,Bf4,e6,e3,c6,c3,Ne7,Nd2,Ng6,Bg3,Nd7,Bd3,Be7,Ngf3,O-O,O-O,f5,Ne5,Ndxe5,dxe5,Bh4,Bf4,Nxf4,exf4,Qb6,Rb1,Kh8,Kh1,Bxf2,g4,g5,Qe2,Bh4,gxf5,exf5,Nf3,Be6,Nxh4,gxh4,Qh5,Qe3,Bc2,h3,Rbe1,Qd2', 'Re2,Qxe2,Qxe2', 'https://lichess.org/training/zzXRe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ZZyJ3', 'Classical', 'Anthonyedd', 1842, 'hercule-poivrot', 1878, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,d3,b5,Bb3,O-O,Be3,Be7,d4,exd4,Nxd4,Nxd4,Bxd4,d6,c3,Be6,Bc2,c5,Be3,Ng4,h3,Nxe3,fxe3,Bf6,Nd2,Re8,Qe2,Qb6,e5,Bxe5,Ne4,g6,Nf6+,Bxf6,Rxf6,c4,Raf1,Ra7,h4,h5,Bxg6,fxg6,Rxg6+,Rg7,Qxh5,Qxe3+,Kh1,Qe4', 'Rxg7+,Kxg7,Qxe8', 'https://lichess.org/training/ZZyJ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('zzYnR', 'Blitz', 'Djungar', 1747, 'Traxoker', 1736, 'd4,Nf6,Nf3,d5,g3,c5,Bg2,e6,O-O,Nc6,c3,Be7,Nbd2,O-O,Re1,b6,e4,cxd4,cxd4,Bb7,Qe2,Nxe4,Nxe4,dxe4,Ne5,Nxd4,Qc4,Nf3+,Nxf3,exf3,Bh1,Rc8,Qf4,Qd3,Be3,Bc5,Bxf3,Bxf3,Qxf3,Bxe3,fxe3,Rc2,Rad1,Qa6,Rf1,Qxa2', 'Qxf7+,Rxf7,Rd8+,Rf8,Rfxf8#', 'https://lichess.org/training/zzYnR');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 42;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet5 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ZxbY', 'Rapid', 'Alfie2006', 1905, 'H_Mahir', 2225, 'e4,c5,c3,d6,d4,cxd4,cxd4,f5,exf5,Bxf5,Nc3,Nf6,Qb3,b6,Bc4,e6,Nge2,d5,Bb5+,Kf7,Bg5,Bd6,Rd1,a6,Bd3,Bg6,O-O,Nbd7,Bf4,Qc7,Bxd6,Qxd6,Rfe1,Rhf8,Bxg6+,hxg6,Ng3,Rh8,Nce2,Rh4,Nc1,Rah8,h3,g5,Nd3,g4,Ne5+,Ke8,Ng6,gxh3,Nxh8,h2+,Kh1,Rxh8,Qe3,Kf7,Qf3,Rh4,Nf1,Kg8,g3,Rh7,Nxh2,e5,Kg2,e4,Qf5,Rh5,Qf4,Qe6,g4,g5,Qg3,Rh4,f3,Qc6,Rc1,Qb5,Rc8+,Kf7,Rc2,Qd3,Rce2,Qxd4,fxe4,Nxe4,Qf3+,Ndf6,Qe3', 'Rxh2+,Kxh2,Nxg4+,Kg2,Nxe3+', 'https://lichess.org/training/5ZxbY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5ZXOy', 'Classical', 'Pejov', 1905, 'gaben1773', 1848, 'f4,d5,d4,Nf6,Nf3,Bg4,e3,e6,Be2,c5,O-O,Nc6,Nc3,a6,a4,Be7,Ne5,Bxe2,Nxe2,O-O,c3,Na7,dxc5,Bxc5,Nd4,Rc8,Ng4,Ne4,Nf2,Nxf2,Rxf2,Nc6,Qb3,Qc7,f5,Nxd4,cxd4,Be7,Bd2,h6,Bc3,Qd7,Qc2,Bf6,Qd3,exf5,Rxf5,Rfe8,a5,Re4,Raf1,Rce8,Bd2,Bg5,R5f3,Qe6,Re1,Bf6,Bc3,Rg4,g3,Qe4,Qe2,Re6,h3,Rg6,Kh2,Be7', 'Rf4,Bd6,Rxe4', 'https://lichess.org/training/5ZXOy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('5zZTN', 'Rapid', 'cameroonlion', 1650, 'irsan', 1701, 'e4,e5,Nc3,Nc6,f4,Bb4,Nf3,d6,a3,Ba5,Bb5,Ne7,O-O,a6,Bc4,h6,d4,b5,Bb3,exd4,Nxd4,Nxd4,Qxd4,Bb6,Qxb6,cxb6,Nd5,Nxd5,exd5,O-O,c4,bxc4,Bxc4,b5,Bd3,f5,b4,Bb7,Bb2,Bxd5,Rad1,Bc4,Bxc4+,bxc4,Rd4,d5,Rfd1,Qh4,Rxd5,Qxf4,Rd7,Rf7,Rxf7,Kxf7,Rd7+,Kg6,Rxg7+,Kh5,h3,Qd2,Bf6,Re8', 'g4+,fxg4,hxg4#', 'https://lichess.org/training/5zZTN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('604vD', 'Classical', 'shauryaoman', 1699, 'poor_gaspard', 2085, 'e4,e5,Nf3,Nc6,d4,Nf6,dxe5,Nxe4,Qd5,Nxf2,Kxf2,Nb4,Qc4,d5,exd6,Qxd6,a3,Qc5+,Qxc5,Bxc5+,Be3', 'Bxe3+,Kxe3,Nxc2+', 'https://lichess.org/training/604vD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('60dgR', 'Blitz', 'muhammed4', 1624, 'zasfet', 1648, 'e4,e6,Nc3,d5,d4,Bb4,e5,c5,a3,cxd4,Qxd4,Nc6,Bb5,Bxc3+,Qxc3,Bd7,Nf3,Nge7,Bd3,O-O,Ng5,h6,Bh7+,Kh8,Qh3,Nxe5,Bd2,Nc4,Bc3,e5,Qh4,f6,Bd3,fxg5,Qh5,e4', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/60dgR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('60DVK', 'Rapid', 'rewix', 1657, 'UltradE', 1657, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nc6,f4,Bd7,Bc4,Qb6,Nb3,e5,Bxf6,gxf6,Nd5,Qd8,Qf3,Na5,Nxa5,Qxa5+,c3,O-O-O,Nxf6,Bc6,O-O', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/60DVK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('60eHQ', 'Classical', 'Darthanyan', 1684, 'leftchess', 1691, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Qf6,O-O,d6,d3,Bg4,Nbd2,O-O-O,h3,Bh5,g4,Bg6,h4,h5,g5,Qe7,b4,Bb6,a4,a6,a5,Ba7,Bb2,f6,d4,fxg5,Nxg5,Nf6,d5,Nb8,b5,axb5,Bxb5,Nbd7,a6,b6,c4,Nc5,Ba3,Nfxe4,Ndxe4,Nxe4,Ne6,Rdg8,Bc6,Qxh4,Bb7+,Kb8,Qf3,Nd2,Qh1,Qg4+,Qg2,Qxg2+,Kxg2,Nxf1,Kxf1,Bd3+,Kg2,Bxc4,Rc1,b5,Bb4,g5,Ra1,g4,Ba5,Bb6,Bc6,Ka7,Nxc7,Bxc7,Bxc7,Rc8,Bxd6,Rxc6,dxc6,Bd5+,Kg1,Bxc6,Bc5+,Ka8,a7,Rg8,Ra6,Rg6', 'Rb6,Rg8,Rxc6', 'https://lichess.org/training/60eHQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('60fEG', 'Rapid', 'joker923', 1738, 'Stranger9', 1791, 'd4,d5,c4,Nf6,Nc3,Bf5,Nf3,h6,e3,e6,Bd3,Bxd3,Qxd3,dxc4,Qxc4,Bd6,e4,Be7,O-O,O-O,e5,Nfd7,Be3,Nb6,Qd3,Nc6,a3,Qd7,Nd2,Bd8,f4,Ne7,Ne2,Nf5,Bf2,Nd5,Rac1,c6,g4,Nfe7,Ng3,Nxf4,Qf3,Nh3+,Kg2,Nxf2,Rxf2,Nd5,Nde4,Bc7,g5,hxg5,Nxg5,Qe7', 'Qh5,Qxg5,Qxg5', 'https://lichess.org/training/60fEG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('60UrC', 'Blitz', 'KingSacs', 1555, 'Keggy24', 1545, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Nbd7,Nf3,h6,Bh4,g5,Bg3,Nh5,b4,Bg7,b5,Nb6,bxc6,bxc6,cxd5,Nxd5,Nxd5,Qxd5,Be5,Qa5+,Nd2,Bxe5,dxe5,Qxe5,g3,Rb8,Bg2,c5,O-O,Bg4,Nf3,Qf6,Qa4+,Kf8,Qxg4,Ng7,Rfd1,Ne6,Bh3,Rb2,e3,Kg7,Qe4,c4,Bxe6,fxe6,Nd4', 'Qxf2+,Kh1,Qxh2#', 'https://lichess.org/training/60UrC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('60UTU', 'Rapid', 'DedaRoga', 1965, 'David1187', 1923, 'e4,e5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,d6,d4,Bd7,Bc4,Nge7,Bg5,h6,Be3,O-O,d5,Nb8,a4,f5,b4,f4,Bc1,g5,h3,Bf6,Na3,Rf7,Nh2,Kh7,g3,Bxh3', 'Qh5,Kg8,Qxh3', 'https://lichess.org/training/60UTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('60WlR', 'Blitz', 'QUEDATENCASA', 1937, 'rodrigoa138', 2183, 'e4,c5,Nf3,Nc6,Nc3,g6,Be2,Bg7,O-O,d6,h3,e5,d3,Nge7,Bg5,Be6,g4,O-O,Qd2,Qd7,Nh2,Nd4,f4,exf4,Bxf4,Nec6,a3,Nxe2+,Nxe2,Nd4,c3,Nb3,Qe3,Nxa1,Rxa1,Rae8,Bh6,f5,Bxg7,Kxg7,gxf5,Bxf5,Nf4,Qf7,Rf1,Bc8,h4,Qd7,h5,Re5,h6+,Kg8,Nd5,Rxf1+,Nxf1,Qg4+,Ng3,Re6,d4,Qd1+,Kg2,cxd4,cxd4,Qc2+,Ne2,Qxe4+', 'Qxe4,Rxe4,Nf6+,Kf8,Nxe4', 'https://lichess.org/training/60WlR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('60WqA', 'Rapid', 'mas678', 1853, 'Curut', 1717, 'd4,d5,Bf4,e6,e3,Bd7,Nf3,Nc6,Bd3,Nf6,Nbd2,Be7,c3,O-O,O-O,a6,Ne5,b5,a4,b4,Qf3,bxc3,bxc3,Na5,Qh3,Qe8,Bg5,Ne4,Nxe4,dxe4,Bxe4,f5,Bxe7,Qxe7,Bxa8,Rxa8,f4,Be8,Rf3,Nb3,Raf1,Nd2,Rg3,Nxf1,Kxf1,Bxa4,Rg5,Bb5+,Kf2,Qa3,c4,Ba4,d5,Rb8,dxe6', 'Rb2+,Kg3,Qxe3+,Kh4,Qxf4+', 'https://lichess.org/training/60WqA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('60zdi', 'Classical', 'Phemmy', 1979, 'silas273', 2058, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Qxe4+,Be2,Bf5,c3,Be7,O-O,O-O,Re1,Qc6,Na3,Qd7,Nc4,Be6,Qc2,Qc6,Ne3,Qd7,Bd3,h6,Nf1,Bd5,N1d2,Nc6,c4,Bxf3,Nxf3,Rfe8,a3,d5,Bf5,Qd8,c5,Nd7,b4,Bf6,Be3,a6,Re2,Ne7,Bxd7,Qxd7,Ne5,Qf5,Qc3,Bxe5,dxe5,Nc6,Bd4,Re7,Rae1,Rae8,g3,Nxd4,Qxd4,f6,Qxd5+,Kh7,f4,c6,Qd4,Rd7,Qb2,fxe5,Rxe5,Rxe5,Rxe5,Rd1+,Kf2,Qd3,Qe2', 'Rd2,Qxd2,Qxd2+', 'https://lichess.org/training/60zdi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('61FvI', 'Rapid', 'pknm', 2146, 'white-guard', 2181, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,h3,h6,g4,Bh7,Bd3,Bxd3,Qxd3,Nc6,c3,g5,Bg3,Ne4,Be5,f6,Bh2,Na5,Nfd2,Nd6,b3,Qd7,e4,O-O-O,f3,h5,Nf1,Bg7,Nbd2,dxe4,fxe4,e5,d5,b6,Ne3,Nab7,b4,hxg4,hxg4,Rh3,O-O-O,Rdh8,Ndf1,Qa4,Kb2,a5,a3,axb4,axb4,Nb5', 'Ra1,Qxa1+,Kxa1', 'https://lichess.org/training/61FvI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('61Je3', 'Rapid', 'Edmasmaniga', 1824, 'Merpicjusz', 1820, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e5,Nf3,Be7,Bd3,h6,Bh4,O-O,h3,Be6,Qd2,b5,g4,d5,g5,hxg5,Bxg5,dxe4,Nxe4,Nxe4,Bxe7,Nxd2,Bxd8,Rxd8,Nxd2,Nc6,h4,Nd4,h5,Rac8,O-O-O,Bg4,Rde1,Re8,h6,gxh6,Rxh6,Bf5,Rg1+,Kf8,Bxf5,Nxf5,Rxa6,Nd4,Rh1,Rxc2+,Kd1,Rxb2', 'Rh8+,Ke7,Ra7+,Kd8,Ra8+', 'https://lichess.org/training/61Je3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('61mSn', 'Rapid', 'Ahmed_Chess', 2141, 'UGOL', 2139, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,e6,Bg5,Be7,Bd3,Qc7,O-O,Nbd7,Re1,h6,Bh4,O-O,Kh1,b6,f4,Bb7,Bg3,Nc5,e5,dxe5,fxe5,Nd5,Ne4,Nxe4,Bxe4,Rad8,c3,Bc5,Rc1,Ne7,Bb1,Qd7,Qc2,g6,Rcd1,Qc7,Bh4,Bxd4,Bxe7,Qxe7,cxd4,Rc8,Qd2,Kh7,Re3,Qg5,Qe2', 'Bxg2+,Qxg2,Qxe3', 'https://lichess.org/training/61mSn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('61nVC', 'Rapid', 'gianpi2016', 1882, 'vanix', 1888, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,Bg5,Be7,Bc4,Nxe4,Bxe7,Qxe7,Nxe4,d5,Bxd5,cxd5,Nd2,Rb8,b3,Ba6,c4,dxc4,bxc4,O-O,O-O,Rfc8,Rc1,Rd8,Qa4,Rxd2,Qxa6,Rbb2,Rb1,Rxa2', 'Rb8+,Rd8,Rxd8+,Qxd8,Qxa2', 'https://lichess.org/training/61nVC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('61och', 'Rapid', 'ferdido', 1707, 'DerekSmalls', 1681, 'e4,e5,Qf3,Nf6,d3,Bc5,Be2,d6,h3,Nc6,c3,d5,Na3,dxe4,Qg3,exd3,Bxd3,e4,Be2,Bxa3,bxa3,Be6,Rb1,Rb8,Qxg7,Rg8,Qh6,Rxg2,Bg5,e3,Bxf6', 'Qd2+,Kf1,Rxf2#', 'https://lichess.org/training/61och');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('61v2J', 'Blitz', 'Tigre41', 2137, 'Ali74Ali', 1828, 'Nf3,b6,d4,Bb7,c4,g6,Nc3,Bg7,e4,Nf6,Bd3,O-O,h3,d6,Be3,Nfd7,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,f4,Bg7,Qc2,Nd7,b4,a5,a3,axb4,axb4,Rxa1,Rxa1,Nf6,Re1,Nxe4,Bxe4,Bxe4,Nxe4,Re8,Ng5,Qf6,Kh2', 'Rxe3,Rxe3,Qxf4+,Rg3,Be5,Nf3,Qxg3+', 'https://lichess.org/training/61v2J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('61xsl', 'Rapid', 'g3nksu', 1939, 'FonoyMaster', 1996, 'e4,c5,f4,e6,Nf3,d5,exd5,exd5,c3,Nc6,Bd3,Nf6,O-O,Bd6,Qe1+,Ne7,Bb5+,Bd7,Bxd7+,Qxd7,Ne5,Qc7,Qg3,O-O,d4,Ne4,Qh4,f6,Nd3,cxd4,cxd4,Qc2,Qh3,Rac8,Na3,Bxa3,bxa3,Rc3,Qe6+,Rf7,Nb4,Qe2,Nxd5,Nxd5,Qxd5,Rxc1,Raxc1,Qe3+,Kh1,Nf2+,Rxf2', 'Qxc1+,Rf1,Qxf1#', 'https://lichess.org/training/61xsl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('61xZP', 'Blitz', 'IM Asonchess', 2440, 'efim76', 2194, 'e4,d6,d4,Nf6,Nc3,e6,f3,Be7,Be3,O-O,Qd2,d5,O-O-O,dxe4,fxe4,Ng4,Bf4,e5,dxe5,Qxd2+,Rxd2,Nc6,Nf3,Bb4,h3,Bxc3,bxc3,Nh6,Bxh6,gxh6,Bb5,Na5,Rhd1,c6,Be2,Be6,Kb2,Rfe8,Nd4,Bc4,Bf3,Rxe5,Nf5,Be6', 'Rd8+,Rxd8,Rxd8#', 'https://lichess.org/training/61xZP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('61yP2', 'Classical', 'krzysztofmarcjanek', 1657, 'szwagieer', 1680, 'd4,d6,c4,b6,Nc3,Nd7,Bf4,g6,e4,Bg7,Bd3,e5,dxe5,dxe5,Bg3,Ngf6,Nf3,Qe7,Bh4,O-O,Nd5,Qd6,Qd2,c6,Nc3,Nc5,Bc2,Qxd2+,Nxd2,Rd8,O-O-O,Ba6,Nf3,Rxd1+,Rxd1,Bxc4,Nxe5,Bxa2,Nxa2,Nfxe4,Nxc6,Bf6,Bxf6,Nxf6,f3,a5,Rd6,Kg7,Nc3,Rc8,Ne7,Re8,Ned5,Nxd5,Nxd5,Re1+,Kd2,Re5,Nxb6,Ne6,Nc4,Rb5,Kc3,Nf4,Rb6', 'Nd5+,Kd2,Nxb6,Nxb6,Rxb6', 'https://lichess.org/training/61yP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('623fo', 'Rapid', 'Elmlegyart', 1689, 'Sulaymonov2323', 1666, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,d6,d3,h6,a3,Nf6,O-O,O-O,Nd5,Bg4,h3,Bh5,c3,Na5,Ba2,Bb6,Nxb6,axb6,g4,Nxg4,hxg4,Bxg4,Kh1,Qf6,Kg2,h5,Rh1,g6,Bg5', 'Bxf3+,Qxf3,Qxg5+', 'https://lichess.org/training/623fo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('628n0', 'Rapid', 'ohazem292', 1700, 'giobar', 1694, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,c5,d5,d6,Nf3,O-O,Qd3,b6,g3,e5,h4,Bg4,Ng5,h6,Ne4,Nxe4,Qxe4,f5,Qe3,f4,Qe4,Nd7,h5,Nf6,Qg6,Bxh5,Rxh5,Nxh5,Qxh5,fxg3,fxg3,Qf6,Bh3,Qf2+,Kd2,Qxg3,Kc2,Rf6,Be6+,Kh8,Bd2,Qg6+,Qxg6,Rxg6,Rf1,Rg2,e4,Kh7,Rf7,Kg6,Rd7,Kh5,Rxd6,Rf8,Bf5,Rf6,Rxf6,gxf6,d6,Rg8,d7,Rd8,a4,a5,Kd3,Rg8,Be3,Rd8,Ke2,Rg8,Bf2,Rd8,Kf3,Rg8,Bg3,Rd8,Be6,Kg5,Be1,h5,Bd2+,Kg6,Kg3,Kg7,Kh4,Kf8,Kxh5,Ke7,Bf5,Rg8,Kh6,Rg2,Be3,Rg3,Bf2,Rxc3,Kg7,Rc2,Bh4,Rg2+,Kh7', 'Rh2,d8=Q+,Kxd8,Kg6,Rxh4', 'https://lichess.org/training/628n0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('62BOM', 'Rapid', 'RYATUGIN5', 1863, 'jonica321', 1742, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Nf3,Nc6,O-O,Be7,Re1,Qd6,Bxd5,Qxd5,Nc3,Qd8,Nxe5,Nxe5,Rxe5,O-O,Nd5,Bd6,Re3,Qh4,g3,Qh3,Qf3,Bg4,Qg2,Qh5,c4,Rfe8,Nf4,Rxe3,Nxh5', 'Re1+,Qf1,Rxf1+,Kxf1,Bxh5', 'https://lichess.org/training/62BOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('62EJT', 'Classical', 'maxcw87', 1764, 'LossAdjuster', 1686, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,Bg5,c6,e3,Bg4,cxd5,cxd5,Be2,O-O,Qc2,Qc7,Rc1,Nbd7,O-O,Rac8,Qd2,Qa5,Bb5,Bxf3,gxf3,Rxc3,Rxc3,Qxb5,Rb3,Qa6,Rc1,Qxa2', 'Ra3,Qxa3,bxa3', 'https://lichess.org/training/62EJT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('62FCH', 'Classical', 'hassan2016', 1854, 'kin149', 1918, 'e4,e5,Nf3,Qf6,h3,Bc5,Be2,d6,O-O,Bxh3,gxh3,Qg6+,Kh2,Nf6,Rg1,Qxe4,d3,Qc6,Nc3,Bxf2,Rg2,Bb6,Bg5,Nbd7,a3,O-O-O,Na2,a5,c4,Qc5,Nc3,Rde8,Na4,Qc6,Nxb6+,Qxb6,Qc2,Nh5,Nh4,f6,Bd2,g5,Nf5,Nf4,Bxf4,exf4,Qc3,Ne5,Nd4,c5,Nb5', 'f3,Bxf3,Nxf3+', 'https://lichess.org/training/62FCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('62H0N', 'Rapid', 'sneginka', 1997, 'Desafio520', 1980, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,Qe2,Qb6,Bxc6,Bxc6,O-O,Nh6,d3,Nf5,c4,O-O-O,Nc3,dxc4,dxc4,Nd4,Nxd4', 'cxd4,Ne4,d3+', 'https://lichess.org/training/62H0N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('62j7G', 'Blitz', 'novusdiem', 1794, '8ctopus', 1711, 'e4,e6,f4,d5,exd5,exd5,Nf3,Bd6,d4,Ne7,c3,Bf5,Bd3,O-O,O-O,c5,Ne5,Qb6,Bxf5,Nxf5,dxc5,Bxc5+,Kh1', 'Ng3+,hxg3,Qh6+,Qh5,Qxh5#', 'https://lichess.org/training/62j7G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('62Jjq', 'Classical', 'mynewchessid', 2157, 'Philly_90193', 2160, 'd4,Nf6,e3,e6,c3,d5,f4,c5,Nf3,Nc6,Bd3,cxd4,exd4,Bd6,O-O,O-O,Ne5,Nd7,Nd2,Ndxe5,fxe5,Be7,Qh5,g6,Qh6,Bg5,Qh3,a6,Nf3,Bxc1,Raxc1,f5,Qh6,Qe7,c4,Nb4,Bb1,dxc4,Rxc4,Nd5,Rfc1,b5,Rc5,Bb7,a3,Qd7,Ba2,Rac8,Ng5,Rxc5,Rxc5,Nf4,d5,Bxd5,Bxd5,exd5,Nxh7,Qxh7,Qxf4,Qd7,Qg5,Kg7,Qd2,Rd8,Qd4,Qe6,Rc7+,Kg8,Qh4', 'Qb6+,Kf1,Qxc7', 'https://lichess.org/training/62Jjq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('62kDl', 'Rapid', 'Theushmi', 1628, 'Das_Auto', 1707, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,d6,Bb5,Bxd4,Bxd4,Qg6,Bxc6+,bxc6,O-O,Nf6,f3,Bh3,Qe2,O-O,Rf2,Nh5,Be3,Rfe8,Na3,d5,Kh1,Be6,Rg1', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/62kDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('62N9l', 'Rapid', 'vik8419', 1862, 'KnightR', 2053, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,d6,Nf3,Be6,Bb3,Nc6,g3,Be7,Bxe6,fxe6,Bxg7,Bf6,Bxh8,Bxh8,Nh4,Qg5,f4,Qa5+,Nd2,Bxa1,Qxa1,O-O-O,Qb2,Nb4,O-O,Qc5+,Kg2,Nd3,Qg7,Qc2,Nf3,Qxa2,Ra1,Qc2', 'Rxa7,Kb8,Qa1', 'https://lichess.org/training/62N9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('62Pxi', 'Rapid', 'cepdit', 1738, 'dschmid', 1737, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Bg5,Qxe2+,Bxe2,Be7,O-O,O-O,Re1,Re8,Bd1,Bd7,Nc3,Nc6,a3,a6,b4,b5,Nd2,h6,Bh4,Na7,Bf3,Rad8,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/62Pxi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('631yF', 'Rapid', 'dsye', 2043, 'N01001111', 2023, 'd4,g6,c4,d6,Nc3,a5,e4,Bd7,f4,Bg7,Nf3,Na6,Be3,c5,d5,Nf6,h3,O-O,Be2,e6,e5,Nh5,O-O,Ng3,Re1,Nxe2+,Rxe2,dxe5,fxe5,exd5,cxd5,b5,a4,bxa4,Nxa4,Bxa4,Rxa4,Re8,Bf2,Nb4,Bxc5,Qxd5,Qxd5,Nxd5,Kf2,Ra6,Bd6,Nb6,Rae4,Nd5,Ba3,h6,Nd4,g5,e6,Bxd4+,Rxd4,Nf4', 'exf7+,Kxf7,Rd7+,Kg6,Rxe8', 'https://lichess.org/training/631yF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6345R', 'Rapid', 'Zonga', 1902, 'ainkie', 1986, 'd4,Nf6,Nf3,d5,c4,dxc4,e3,Bg4,Bxc4,h6,O-O,e6,Qe2,Be7,Rd1,Nbd7,Nc3,O-O,e4,c6,Bd2,b5,Bb3,a5,a3,a4,Ba2,Re8,d5,exd5,exd5,Nxd5,Nxd5,cxd5,Bxd5,Rb8,Qe4', 'Nf6,Bxf7+,Kxf7', 'https://lichess.org/training/6345R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('638ta', 'Rapid', 'tram', 1706, 'Maahk', 1805, 'e3,c5,c3,e6,Qc2,Nc6,Bd3,g6,h4,h5,Kf1,Ne5,Be2,Qf6,d4,cxd4,cxd4,Ng4,Bf3,Rb8,Nc3,a6,Ne4,Qe7,b3,Bg7,Bxg4,hxg4,a4,Rxh4,Rxh4,Qxh4,Qc7,Ra8,Nd6+,Ke7,Ba3,Kf6,Nxc8,Nh6,Qxb7,Rxc8,Qxc8,Nf5,Qxd7,g3,Nf3,Qh1+,Ng1,gxf2,Kxf2,Bh6,Qd8+,Kg7,Bf8+,Kh7,Bxh6,Qxh6,Qf6', 'Qxe3+,Kf1,Ng3#', 'https://lichess.org/training/638ta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('63j9b', 'Rapid', 'Elti', 1910, 'mariajuler', 2074, 'Nf3,d5,c4,e6,g3,Nf6,Bg2,dxc4,Qa4+,Bd7,Qxc4,Bc6,O-O,Nbd7,d4,Be7,Nc3,O-O,a3,Nb6,Qd3,Nbd5,Ne5,Be8,e4,Nxc3,bxc3,c5,Be3,Qc7,Rfc1,Rd8,Qe2,Nd7,Nd3,e5,d5,Nb6,f4,Nc4,fxe5,Nxe5,Bf4,Bd6,Nxe5,Bxe5,Qh5,Bxf4,gxf4,Qxf4,Rf1,Qe3+,Kh1,Qxc3,Rg1,f6,Qg4,Bg6,h4,Qe5,Bf3,Qe7,h5,Be8,Rab1,b6,Rb2,Bd7,Qg3,Rf7,Rbg2,Qe5,Qf2,h6,Rg6,Kh7,Qg2,Rg8', 'Rxh6+,gxh6,Qxg8#', 'https://lichess.org/training/63j9b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('63k5H', 'Blitz', 'AlexeyPushkarev1963', 2056, 'ScottPilgrim', 2121, 'e4,e5,f4,exf4,Nf3,g5,Bc4,d5,exd5,Bd6,Qe2+,Kf8,Nc3,g4,Nd4,Qh4+,Qf2,g3,Qf1,Bg4,hxg3', 'Qxg3+,Qf2,Qxf2+,Kxf2,Bc5', 'https://lichess.org/training/63k5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('63Kt8', 'Rapid', 'FrostySnake', 1808, 'laschess', 1815, 'e4,Nc6,d4,e5,d5,Nce7,Nf3,Ng6,Nc3,Bb4,h4,h5,Bg5,Nf6,Qd3,Bxc3+,Qxc3,d6,Nd2,Ne7,Be2,Bg4,f3,Bd7,O-O-O,Nh7,Bxe7,Qxe7,Qxc7,Rc8,Qxb7,Rxc2+,Kxc2,Ba4+,Qb3,Bxb3+,Nxb3,O-O,Na5,Qc7+,Nc6,f5,exf5,Nf6,Kb1,Nxd5', 'Bc4,Kh8,Bxd5', 'https://lichess.org/training/63Kt8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('63Mw4', 'Blitz', 'donat876', 2062, 'Adjie_prasetyo', 1987, 'd3,e5,e4,Nf6,f4,d6,Nf3,h6,Be2,Nc6,O-O,Bg4,f5,Bxf3,Bxf3,Qd7,Nc3,a6,Be3,Be7,a3,Nd4,Bxd4,exd4,Ne2,c5,Ng3,O-O-O,b4,Qa4,bxc5,dxc5,Rb1,Nd7,Rb3,Ne5,Qb1,Rd7,Bd1,Qc6,Rb6,Qc7,Nh5,g5,fxg6,fxg6,Nf4,Bg5,Nd5,Qb8,Re6,Rxd5,exd5,Be3+,Kh1,h5,Rf7,Ng4,Bxg4,hxg4,g3,b5,Ref6,Qe5,Qf1,Qxd5+,Qg2', 'Rxh2+,Kxh2,Qh5+,Qh3,Qxh3#', 'https://lichess.org/training/63Mw4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('63n3I', 'Blitz', 'Bauernweisheit', 1812, 'tomoo25', 1757, 'e4,c5,f4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qd8,Bb5,Bd7,Bxc6,Bxc6,O-O,Nf6,Ne5,Qc7,d3,e6,Qe1,Bd6,Qg3,g6,Nxc6,Qxc6,Ne4,Nxe4,dxe4,Qxe4,Bd2,O-O-O,Bc3,Rhg8,Be5,Bxe5,fxe5,Rd5,Qa3,Kb8,Rae1,Qxc2,Rxf7,Rgd8,Qa5,Rd1', 'Qc7+,Ka8,Qxb7#', 'https://lichess.org/training/63n3I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('63OFO', 'Classical', 'IlyaMatveev', 1712, 'StefanenkovMachine', 1707, 'e4,e6,Nf3,c5,Nc3,Nc6,d4,cxd4,Nxd4,a6,Nxc6,bxc6,Qd4,Ne7,Be3,d5,g3,Ng6,Bg2,c5,Qd3,d4,Bd2,dxc3,Qxd8+,Kxd8,Bxc3,Bb7,O-O-O+,Kc7,Ba5+,Kc6,e5+,Kb5,Bxb7,Kxa5,Bxa8,Be7,Be4,Nxe5,f4,Ng4,Rd3,Nf2,Ra3+,Kb5,Rf1,Nxe4,b3,c4,bxc4+,Kxc4', 'Ra4+,Bb4,a3,a5,axb4', 'https://lichess.org/training/63OFO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('63XwA', 'Classical', 'BlackSnow777', 1999, 'niltonmaia', 2048, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,Nf3,dxc4,Bxc4,c5,O-O,cxd4,Nxd4,O-O,Qe2,a6,a4,Qc7,Bd3,Bg4,f3,Bd7,Bd2,Nc6,Nxc6,Bxc6,a5,Rfd8,Rfd1,Rd7,Na4,Rad8,Bc3,Nd5,Bxg7,Kxg7,Nc5,Rd6,b4,Nxb4', 'Qb2+,Kg8,Qxb4', 'https://lichess.org/training/63XwA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('63yGN', 'Rapid', 'mobina-2019', 1843, 'essbar', 1600, 'e4,e6,Nf3,d5,Nc3,d4,Ne2,c5,c3,Nf6,e5,Nfd7,cxd4,cxd4,Nexd4,Nxe5,Nxe6,Nxf3+,Qxf3,Bxe6,Qxb7,Bd5', 'Bb5+,Nd7,Qxd5', 'https://lichess.org/training/63yGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('641vV', 'Blitz', 'ZLV', 2101, 'WFM Chess4always', 2130, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,c3,Ne7,Ne2,Nd7,O-O,g6,Nd2,h5,Nf3,Nf5,Ng3,Be7,Nxf5,gxf5,b4,Rg8,Kh1,a5,b5,c5,a4,cxd4,cxd4,Bb4,Ba3,Nb6,Bxb4,axb4,Qb3,Qe7,Rfb1,Rc8,Qxb4', 'Rc1+,Rxc1,Qxb4', 'https://lichess.org/training/641vV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('64eQo', 'Blitz', 'totototototot', 1546, 'GeorgeMoir', 1530, 'd4,d5,f3,Bf5,g4,Bg6,f4,h6,f5,Bh7,Bg2,c6,e4,e6,e5,exf5,gxf5,Bxf5,Bh3,Bxh3,Nxh3,Ne7,Nf4,Ng6,Nxg6,fxg6,Qg4,g5,Nc3,Be7,Rf1,Nd7', 'Qh5+,g6,Qxg6#', 'https://lichess.org/training/64eQo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('64fyv', 'Blitz', 'lagunov', 2270, 'Tazi81', 2248, 'e4,d6,d4,Nf6,Nc3,Nbd7,Bc4,e5,Nf3,Be7,h3,h6,a4,c6,Ba2,Qc7,O-O,g5,Re1,g4,hxg4,Nxg4,Nxe5,Ndxe5,dxe5,dxe5,Qf3,Bc5,Be3,Bxe3,fxe3,Qe7,Rf1,Rh7,g3,h5,Kg2,h4,gxh4,Rg7,Rh1,Nxe3+,Kf2,Rg2+,Kxe3', 'Qc5+,Kd3,Qd4#', 'https://lichess.org/training/64fyv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('64LAx', 'Rapid', 'adam1920', 1921, 'ibrahimsabirturqay', 1912, 'Nf3,c5,c4,g6,Nc3,Bg7,e3,Nc6,d4,cxd4,exd4,b6,d5,Ne5,Be2,d6,Nd4,Nf6,f4,Neg4,h3,Nh6,g4,Nhg8,Nc6,Qc7,g5,Nd7,Be3,a6,Qc2,Nc5,b4,Nb7,Bd4,Bxd4,Nxd4,h6,Kf2,hxg5,fxg5,Rxh3,Rxh3,Bxh3,Qd3,Qd7,Rh1,Bg4,Nc6,Qf5+,Qxf5,Bxf5,Rh8,Kd7,Na4,Re8,Nxb6+,Kc7,Na4,Bd7,Bf3,f6,gxf6,Nxf6,Rxe8,Nxe8,Nc3,Bxc6,dxc6,Nd8,b5,axb5,cxb5,Nf6,Ke3,Kb6,a4,Ne6,Nd5+,Nxd5+,Bxd5,Nc5', 'a5+,Kxa5,c7', 'https://lichess.org/training/64LAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('64MQW', 'Rapid', 'shajmaty009', 2290, 'bulletcrime', 1989, 'e4,e6,Nf3,d5,Nc3,Ne7,d4,Nd7,Bd3,c5,exd5,Nxd5,Nxd5,exd5,O-O,c4,Re1+,Be7,Bf1,O-O,b3,Bb4,Bd2,Bxd2,Qxd2,cxb3,axb3,Nf6,Ne5,Bf5,c4,Qb6,c5,Qxb3,Qf4,Be4,f3,Bg6,Nxg6,fxg6,Reb1,Qc3,Rc1,Qb4,Rab1,Qa4,Rxb7,Rae8,Qc7,Qxd4+,Kh1,Nh5,Rxa7,Qh4,c6,Re1,Raa1,Re7,Qd6,Rf6,Qxe7', 'Ng3+,Kg1,Qd4+,Qe3,Qxe3#', 'https://lichess.org/training/64MQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('64nDW', 'Rapid', 'erhan153', 1838, 'Hossein_Ebn_Ali', 1813, 'e4,c5,Bc4,Nc6,Nf3,a6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,O-O,Qf6,Nc3,Bd6,f4,Bb8,f5,Qe7,fxe6,Qc5+,Kh1,Qxc4', 'exf7+,Qxf7,Rxf7', 'https://lichess.org/training/64nDW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('64q7q', 'Rapid', 'lb25', 1769, 'ZMEI---1982', 1849, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,Qf6,d5,Nd4,Nxd4,exd4,O-O,Bd6,Nd2,Ne7,Nf3,Be5,Nxe5,Qxe5,Qf3,d6,b3,d3,Rb1,dxc2,Rb2,Ng6,Rxc2,h5,Kh1,Bg4,Qe3,a6,Bb2,Qe7,Bxg7,Rg8,Bd4,O-O-O,Be2,Ne5,Bxe5,Qxe5,Bxg4+,Rxg4,Qf3,Rdg8,Rg1,Rh4,h3,Rxe4', 'Qxf7,Qe7,Qxg8+', 'https://lichess.org/training/64q7q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('64qYG', 'Classical', 'jnet', 1658, 'ahmetsaatci', 1637, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Be2,d6,h3,g6,Bg5,Bg7,e5,c5,Bxf6,Bxf6,Qxd6', 'Qxd6,exd6,Bxb2', 'https://lichess.org/training/64qYG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('652SZ', 'Rapid', 'Dikeuss', 1709, 'ayzay', 1705, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,b3,Re8,Bb2,Nc6,e3,e5,dxe5,dxe5,Qxd8,Rxd8,c4,Re8,Nc3,a6,Rfd1,Be6,a3,h6,Nd5,Bxd5,cxd5,e4,Nh4,Ne5,Bxe5,Rxe5,Bh3,Nxd5,Rd2,g5,Ng2,f5,Ne1,g4,Bg2,h5,Bf1,b5,Rad1,c6,Rc2,Rc8,Rc5,Bf8,Rc2,Bxa3,Ng2,Be7,Nf4,Nxf4,gxf4,Re6,Rd7,Ra8,Rc7,c5,Rd2,Rd8', 'Rxe7,Rxd2,Rxe6', 'https://lichess.org/training/652SZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('654rt', 'Rapid', 'apis16', 1796, 'Mohamedgf', 1805, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Bc4,Nf6,Nc3,Be7,O-O,O-O,f3,d5,exd5,Nxd4,Qxd4,b6,Be3,Re8,Rad1', 'Bc5,Qxc5,bxc5', 'https://lichess.org/training/654rt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('657AT', 'Rapid', 'mrRanglica', 1948, 'SergPav', 1928, 'e4,c5,d4,cxd4,Nf3,Nc6,c3,dxc3,Bc4,e6,Nxc3,d6,O-O,Nf6,Bg5,Be7,Qe2,O-O,Rad1,Qb6,Bb3,e5,h3,Be6,Bxf6,Bxf6,Rxd6,Bxb3,axb3,Qc7,Rfd1,Rad8,Nb5,Qb6,g4,a6,Nc3,Rxd6,Rxd6,Rd8,Nd5,Qxb3,Nxf6+,gxf6,Rxd8+,Nxd8,Nh4,Ne6,Nf5,Qxh3,Qd1,h5,Qd7,Qxg4+,Kf1,Nf4', 'Nh6+,Kg7,Nxg4', 'https://lichess.org/training/657AT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('657X8', 'Rapid', 'dralfio', 1878, 'IG0R71', 1907, 'Nf3,d5,d4,Nf6,g3,Bg4,Bg2,e6,Ne5,Bh5,Bg5,Be7,c3,Nbd7,Nxd7,Qxd7,Nd2,Ng4,Bxe7,Qxe7,Bf3,Nf6,Bg2,Bg6,O-O,h5,Nf3,Be4,Qa4+,c6,c4,Bxf3,exf3,h4,cxd5,Nxd5,f4,Nb6,Qb3,hxg3,fxg3,Qf6,Rad1,Qh6,Kf2,O-O-O,Rh1,g5,fxg5,Qxg5,Bf3,Qf6,Qe3,Nd5,Qe5,Qg6,Bxd5,exd5,Kg2,Qc2+,Kf3,Rxh2,Rxh2,Qxd1+,Kf4,Qg1,Re2,Rg8,Qf5+,Kb8,Qe5+,Kc8,Qf5+,Kc7', 'Qxf7+,Kb6,Qxg8', 'https://lichess.org/training/657X8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65AFW', 'Rapid', 'Emiliojr090', 1949, 'Darkkhnight', 1944, 'e4,e6,Qe2,Nc6,Nc3,Nf6,Nf3,d6,g3,Be7,Bg2,O-O,O-O,a6,d4,b5,a3,Na5,e5,Nd5,Bd2,Nc4,b3,Nxd2,Nxd2,Bb7,Nxd5,Bxd5,Bxd5,exd5,e6,c6,Rfe1,Bf6', 'e7,Bxe7,Qxe7', 'https://lichess.org/training/65AFW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65CKd', 'Rapid', 'gismangis3', 1725, 'MystikNinja', 1729, 'e4,e5,d3,Nf6,Nf3,Nc6,b3,Bb4+,Nfd2,d6,Be2,O-O,a4,d5,exd5,Nxd5,Bb2,Nd4,O-O,Nxe2+,Qxe2,Re8,Nc4,f6,Nbd2,Bf5,Rfd1,c6,Ne3,Nxe3,Qxe3,b6,Qf3,Bg6,Qg4,Bc5,Ne4', 'f5,Qe2,fxe4', 'https://lichess.org/training/65CKd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65GDU', 'Blitz', 'iOnlyPractice', 2030, 'trullijf', 1535, 'Nf3,Nf6,c4,c5,Nc3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,e4,Bb4,Bd2,Qb6,Qxb6,axb6,Bd3,Bxc3,Bxc3,Ke7,h4,d6,h5,Bd7,h6,g6,f3,Rhc8,Kd2,e5,b4,Ne8,Ke3,Ra3,Bb2,Ra4,a3,Nc7,Bc2,Raa8,Rhd1,b5,Bb3,bxc4,Bxc4,Be6,Rac1', 'Bxc4,Rxc4,Nd5+,Rxd5,Rxc4', 'https://lichess.org/training/65GDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65Ikf', 'Rapid', 'luzhins_parachute', 2168, 'steppendekuh', 2197, 'd4,d6,Bf4,Nf6,e3,c6,c4,Nbd7,Nf3,g6,Nc3,Bg7,Bd3,O-O,O-O,Qe8,d5,Nc5,Bc2,a5,a3,Nh5,dxc6,bxc6,Bg5,h6,Bh4,Rb8,Rb1,Be6,Qe2,Bxc3,bxc3,Rxb1,Rxb1,Bg4,h3,Bxf3,Qxf3,f5,Rb6,g5,Bg3,Nxg3,fxg3,Qf7,Qxc6,Qxc4', 'Bb3,Qxb3,Rxb3', 'https://lichess.org/training/65Ikf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65K67', 'Classical', 'gummibaer', 2009, 'elbercani58', 2060, 'e4,e6,d4,d5,Nc3,c6,Nf3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Bd3,a6,O-O,c5,dxc5,Nxc5,Nd4,Nbd7,f4,Nxd3,Qxd3,f5,Nce2,O-O,Rac1,Nc5,Qa3,Qc7,c4,Qb6,cxd5,Ne4,dxe6,Bxe6,Kh1,Rae8,b3,Rd8,Qb2,Bd5,Rcd1,Qh6,Nc3', 'Ng3+,Kg1,Nxf1', 'https://lichess.org/training/65K67');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65mQi', 'Rapid', 'Chivanov-Valery_1948', 2193, 'alkablindfold', 2131, 'd4,Nf6,Nf3,d5,c4,c6,g3,Bf5,Bg2,e6,Nbd2,h6,O-O,Be7,Re1,O-O,Ne5,Nbd7,cxd5,exd5,Ndf3,Ne4,Qb3,Qb6,Nxd7,Bxd7,Qxb6,axb6,Ne5,Bf5,a3,b5,f3,Nd6,e4,dxe4,fxe4,Bh7,b4,Nc4,Nxc4,bxc4,Bb2,Rfe8,Rac1,b5,e5,Rac8,Bc3,Red8,h4,Bf5,Be4,Be6,Kf2,Bd5,Kf3,Ra8,Ra1,Ra6,Ra2,Rda8,Rea1,Kf8,Kf4,Ke8,Bc2,g6,a4,bxa4,Rxa4,Rxa4,Rxa4,Rxa4,Bxa4,Kd7,b5,cxb5,Bxb5+,Ke6,Be8,g5+,hxg5,hxg5+,Kg4,Be4,Bb5,Kd5,Be8,f5+,exf6,Bxf6,Bf7+,Kc6', 'd5+,Kc5,Bxf6', 'https://lichess.org/training/65mQi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65oSL', 'Blitz', 'Kristijan45', 1788, 'olcayolcay', 1767, 'e4,e5,f4,Nc6,Nf3,Nf6,Bc4,Bc5,fxe5,Nxe5,Nxe5,Qe7,Bxf7+,Kf8,d4,Bb6,O-O,d6,Nc4,Qxe4,Nxb6,axb6,Nc3,Qh4,Nd5,Kxf7,Nxc7,Ra4,c3,Rf8,Qxa4,Kg8,Nb5,Ng4,h3', 'Rxf1+,Kxf1,Qf2#', 'https://lichess.org/training/65oSL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65s6i', 'Rapid', 'kwmooreii516', 1769, 'norbertokruger', 1726, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd5,Qf6,Nc3,Ne7,Qh5,g6,Qe2,Bg7,O-O,O-O,Be3,d6,Rad1,Nc6,a3,Ne5,Nd5,Qd8,Nf4,Nxc4,Qxc4,b6,Nxg6', 'Be6,Qd3,fxg6', 'https://lichess.org/training/65s6i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65sqJ', 'Rapid', 'B52-Omega', 1786, 'mehhmet', 1796, 'e4,e6,f4,d5,e5,Nc6,Nf3,Nge7,a4,Nf5,Be2,Ncd4,O-O,Qd7,c3,Nxf3+,Bxf3,h5,Bg4,hxg4,Qxg4,Qe7,Na3,Qh4,h3,Bc5+,d4,Nxd4,Be3,Qxg4,hxg4,Ne2+,Kf2,Bxe3+,Kxe3,Ng3,Rf3,Nh1,Nb5,Kd8,Rd1,c6,Nd6,Rh2,Nxf7+,Ke7,Nd6,Bd7,f5,Rah8,f6+,gxf6,exf6+,Kxd6,f7,Rf8,g5,e5,g6,Bg4,g7,Rxf7,Rxf7,Rxg2,g8=Q,Re2+,Kd3,Nf2+,Rxf2', 'e4+,Kd4,c5#', 'https://lichess.org/training/65sqJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65Ues', 'Classical', 'islerya', 1682, 'kas97', 1692, 'e4,e5,Bc4,Nf6,Nf3,d6,Nc3,Nc6,h3,Bd7,d4,Na5,dxe5,Nxc4,exf6,Qxf6,Bg5,Qe6,O-O,h6,Nd4,Qg6,Be3,Bxh3,Qf3,Bg4,Qf4,Be7,Nd5,Bd8,b3,Nxe3,Nxe3,Bg5', 'Qxg4,Bxe3,Qxg6,fxg6,fxe3', 'https://lichess.org/training/65Ues');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65uxK', 'Rapid', 'Ikllu', 1840, 'Cryo426', 1863, 'd4,Nf6,Bg5,d5,Bxf6,exf6,c4,Be7,a3,O-O,Nd2,dxc4,Nxc4,Nc6,e3,Be6,Nd2,a6,g3,Bd5,Ngf3,b5,Bg2,Na5,O-O,Nc4,e4,Nxd2,Nxd2,Bb7,d5,Rc8,Qe2,c5,dxc6,Bxc6,Rac1,Bd6,Rfd1,Be5,Nc4,Qc7,Nxe5,fxe5,Qh5,Rfe8,Bh3,Rcd8,Rxd8,Rxd8,Qh4,Qd6,Bf5,g6,Bg4,Qc7', 'Rxc6,Qxc6,Qxd8+', 'https://lichess.org/training/65uxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('65WLE', 'Blitz', 'NM senselessname', 2281, 'Monus01', 2363, 'd4,Nf6,Bg5,Ne4,Bh4,g5,Bg3,Nxg3,hxg3,Bg7,e3,c5,c3,Qb6,Nd2,Qxb2,Rb1,Qxc3,Rc1,Qa5,Rxc5,Qd8,Rxg5,Bf6,Rxh7,Rf8,Rgh5,d5,g4,e6,Ngf3,Nc6,g5,Be7,Qb1,Qb6,Bd3,Qxb1+,Bxb1,Bd7,g6,fxg6,Bxg6+,Kd8,Ne5,Nxe5,dxe5,Bc6,Ke2,a5,Nf3,a4,Nd4,Bd7,Bf7,Ra6,R5h6,Rb6,Bxe6,Rb2+,Kd3,Rfxf2,Bxd7', 'Rfd2+,Kc3,Bb4#', 'https://lichess.org/training/65WLE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('661mo', 'Rapid', 'Reg-Blake', 1620, 'LayziBoy', 1622, 'e4,Nc6,d4,d5,e5,f6,exf6,Nxf6,Be2,Bf5,Bh5+,g6,Be2,Qd7,Nf3,O-O-O,O-O,e6,Ne5,Nxe5,dxe5,Ne4,Nd2,Bg7,Nxe4,Bxe4,f4,Qc6,Bd3,Rhf8,Qe2,h5,b4,h4,h3,Qc3,Bd2,Bxd3,cxd3,Qd4+,Kh1,g5,fxg5,Bxe5,Rae1,Bd6,Rxf8,Rxf8,Qxe6+,Kb8,g6,a6,g7,Qxg7,Bh6', 'Qg3,Qe8+,Rxe8', 'https://lichess.org/training/661mo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('664Gp', 'Rapid', 'xxpampy', 1821, 'FeR3oN_Alex', 1655, 'd4,d5,e3,Nc6,a3,e5,c3,e4,c4,a6,cxd5,Qxd5,Nd2,Nf6,h3,g6,Ne2,Bg7,Nc3,Qd8,Ncxe4,Nxe4,Nxe4,O-O,Bd3,Bf5,Ng3,Bxd3,Qxd3,Ne7,O-O,c5,b3,cxd4,e4,Nc6,Bb2,b5,b4,Ne5,Qxd4', 'Nf3+,gxf3,Bxd4', 'https://lichess.org/training/664Gp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('667Og', 'Rapid', 'laki3', 1771, 'gory', 1862, 'e4,d6,Nf3,Nf6,e5,dxe5,Nxe5,Nfd7,Nxd7,Bxd7,Nc3,g6,Bc4,Bg7,O-O,O-O,d4,Nc6,Be3,a6,d5,Ne5,Bb3,b6,a3,Qc8,f4,Ng4,Bd4,c5,Bxg7,Kxg7,h3,Ne3,Qf3,Nxf1,Rxf1,f5,Re1,Re8,Qe3,c4,Ba2,Qc5,Qxc5,bxc5,Bxc4,Kf6,h4,e6,dxe6,Bxe6,Bxe6,Rxe6', 'Nd5+,Kf7,Rxe6,Kxe6,Nc7+,Kd6,Nxa8', 'https://lichess.org/training/667Og');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('66AyR', 'Blitz', 'FunnyGambit', 2155, 'AlperK', 2373, 'd4,Nf6,c4,e6,g3,d5,Nf3,dxc4,Bg2,Bb4+,Bd2,Be7,O-O,O-O,Qc2,c5,dxc5,Bxc5,Qxc4,Nbd7,Nc3,a6,Rad1,b5,Qb3,Bb7,Bg5,Qb6,Bxf6,Nxf6,Ne5,Bxg2,Kxg2,Rfd8,f3,Qb7,e4,Ba7,a4,b4,Ne2,Nxe4,fxe4,Qxe4+,Qf3,Qxe5,Qxf7+,Kh8', 'Rxd8+,Rxd8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/66AyR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('66Biu', 'Rapid', 'Bedly94', 1695, 'carlospinheiro', 1784, 'd4,d5,Nc3,Nf6,Bg5,e6,e3,Be7,h3,a6,Bxf6,Bxf6,Nf3,Nc6,a3,O-O,g4,h6,Bd3,Ne7,h4,e5,dxe5,d4,exd4,Bxg4,Be2,Bxf3,exf6', 'Bxh1,fxe7,Qxe7', 'https://lichess.org/training/66Biu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('66fQp', 'Rapid', 'ruslya007', 1680, 'LouisDega', 1661, 'd4,d5,Bf4,e6,Nc3,Bd7,a3,Bc6,b4,b6,Nf3,Nd7,Ne5,Nxe5,Bxe5,f6,Bg3,Qd7,Qd3,O-O-O,b5,Bb7,a4,Kb8,e3,Bb4,Be2,Ne7,O-O,Nf5,Na2,Nxg3,fxg3,Ba5,c4,dxc4,Qxc4,Qd5,Qxd5,Bxd5,Nc1,h5,Bf3,Bxf3,Rxf3,h4,Nd3,hxg3,Rxg3,g5,Rf1,Rdf8,Nf2,Rhg8,Ne4,f5,Nxg5,Re8,e4,fxe4,Nxe4,Rxg3,Nxg3,Bc3,Rf4,e5,dxe5,Bxe5,Re4,Kc8,Nf5', 'Bxh2+,Kxh2,Rxe4', 'https://lichess.org/training/66fQp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('66gNu', 'Rapid', 'Akradjelfa', 1607, 'Dobotron', 1652, 'e4,c5,Bc4,d6,Nh3,Nf6,d3,e5,a3,Nc6,Nc3,Be7,Bg5,h6,Bxf6,Bxf6,Nd5,Nd4,c3,Ne6,Qe2,Nf8,O-O-O,Ng6,Kb1,O-O,g3,Bxh3,f4,Be6,f5,Bxd5,Bxd5,Ne7,Ba2,a6,g4,b5,h4,Nc6,g5,Be7,f6,gxf6,gxf6,Bxf6,Rhg1+,Kh7,Qg4,Rg8,Qf5+,Kh8,Rxg8+,Qxg8,Qxf6+,Qg7,Qxd6,Nd8,Qxc5,Ne6,Qe3,Nf4,Rg1,Qf6,Qc5,Nxd3,Qd5,Qf2', 'Qxa8+,Kh7,Qg8#', 'https://lichess.org/training/66gNu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('66ISG', 'Rapid', 'jugador1000', 1640, 'Alexander2010', 1620, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,Ng5,d5,exd5,Na5,Qf3,Nxc4,dxc4,Bg4,Qb3,b6,f3,Bd7,Be3,O-O,Nc3,Rb8,a4,Bc5,Bxc5,bxc5,Qa3,Bf5,Rc1,Re8,Nge4,Nxe4,Nxe4,Bxe4,fxe4,Qf6,b3,Qf4,Kd1,Qxe4,Qxc5,Qxg2,Qg1,Qf3+,Kd2,e4,Qe3,Qg2+,Kc3,Re5,Qxa7,Rbe8,Qe3,Rf5,Kb2,Rf3,Qd4,Qg6,Rhg1,Qh6,Rg3,Rxg3,hxg3,e3,Re1,e2,Qd3,Qh5,Kc3,Qg4,Kd2', 'Qg5+,Kc3,Re3', 'https://lichess.org/training/66ISG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('66jac', 'Rapid', 'alejandro1907', 1823, 'savassavas', 1786, 'd4,d5,Bf4,Nf6,e3,e6,Bd3,c5,c3,cxd4,cxd4,Bb4+,Nd2,O-O,Nf3,Nc6,O-O,Ne7,h3,Nf5,Bh2,Re8,a3,Bd6,Bxd6,Qxd6,Rc1,Bd7,Qb3,b6,e4,dxe4,Nxe4,Nxe4,Bxe4,Rac8,Rfd1,Qf4,Qd3', 'Rxc1,Rxc1,Qxc1+', 'https://lichess.org/training/66jac');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('66n3Q', 'Classical', 'fm0001', 1842, 'Tallybloodyho', 1787, 'd4,e5,c3,e4,Qc2,d5,c4,Be6,e3,Nf6,a3,Nc6,Nc3,a6,Be2,Qd7,Bd2,Be7,c5,O-O,f3,exf3,gxf3,h6,Bd3,Nh5,O-O-O,b6,Nge2,bxc5,dxc5,Nf6,Rhg1,Kh8,Nf4,d4,Ne4,dxe3,Bxe3,Na5,Nxf6,Bxf6,Nxe6,Qxe6,Be4,Qa2,Bxa8', 'Nb3+,Qxb3,Qxb3', 'https://lichess.org/training/66n3Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('66Sen', 'Blitz', 'miz82', 1694, 'Taras_Obludnyk', 1728, 'e4,c5,Nf3,Nc6,Bb5,d6,d4,a6,Bxc6+,bxc6,d5,cxd5,exd5,Nf6,c4,g6,b3,Bg7,Bb2,O-O,O-O,a5,Nbd2,Rb8,Rb1,a4,Ng5,Bf5,Nge4,Nxe4,Bxg7,Kxg7,Nxe4,Bxe4,Rb2,axb3,axb3,Rb4,f3,Bf5,Qa1,Qb6,Re2+,Kg8,Rxe7,Rxb3,g4,Bd3,Rfe1,Bxc4,Re8,Bxd5', 'Rxf8+,Kxf8,Qh8#', 'https://lichess.org/training/66Sen');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('66sym', 'Rapid', 'Ray_Hadley', 1897, 'dubhlinn', 1994, 'e4,c5,Nc3,e6,Nge2,a6,g3,Nc6,Bg2,Be7,d3,Qc7,O-O,d6,f4,b6,Be3,Bb7,Qd2,Nf6,h3,O-O,g4,Nd7,f5,b5,Nf4,e5,Nfd5,Qd8,g5,f6,g6,hxg6,fxg6,Nd4,Bh6,Bxd5,Nxd5,Nb6,Bxg7,Kxg7,c3,Nxd5,exd5,Qe8,cxd4,cxd4,Be4,Qd7,Bf5,Qd8,Be6,Rh8,Rfc1,Rh5,Rc6,f5,Rac1,Bg5,Rc7+,Kh6,Qg2,Bxc1', 'Rh7#', 'https://lichess.org/training/66sym');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('66Xzt', 'Rapid', 'Mikhail02', 1858, 'ssaa11', 1893, 'c4,b6,d4,Bb7,Nc3,e6,e4,c5,d5,exd5,cxd5,d6,Bb5+,Nd7,Qa4,a6,Bxd7+,Qxd7,Qxd7+,Kxd7,Nf3,Nf6,e5,Nxd5,Nxd5,Bxd5,exd6,Kxd6,Bf4+,Kc6,Ne5+,Kb7,O-O-O,Bxg2', 'Rd7+,Kc8,Rhd1', 'https://lichess.org/training/66Xzt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('66y8E', 'Rapid', 'ViTaMiN77', 1662, 'claing24', 1735, 'e4,d5,exd5,Qd6,Nc3,Nf6,Bc4,Bg4,f3,Bh5,d3,Nbd7,Bg5', 'Qe5+,Qe2,Qxg5', 'https://lichess.org/training/66y8E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('671ID', 'Classical', 'mostafacaruana', 2178, 'KaffeKillen', 2051, 'd4,Nf6,Nf3,d5,g3,e6,Bg2,Be7,O-O,O-O,c4,dxc4,Ne5,Nc6,Nxc6,bxc6,Bxc6,Rb8,Nc3,Bb7,Bb5,Bd5,Qa4,c6,Bxc6,Rb4,Nxd5,Rxa4,Nxe7+,Qxe7,Bxa4,e5,dxe5,Qxe5,Rb1,Qxe2,Be3,Ng4', 'Bd1,Qd3,Bxg4', 'https://lichess.org/training/671ID');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('67aav', 'Rapid', 'frimousse160', 1711, 'Gromozekaaaaa', 1648, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,f4,Qa5+,Bd2,Qa6,Qb3,Qb6,Nf3,Ne7,Qxb6,axb6,Bb4,Nd7,Nbd2,c5,Ba3,Nc6,dxc5,bxc5,c4,d4,O-O,g6,Ne4,b6,Nd6+,Bxd6,exd6,Na5,Rac1,O-O,Ne5,Rfd8,b4,Nxe5,fxe5,Nb7,bxc5,Rxa3,cxb6,Ra5,Rfd1,Rxe5,Rxd4,Rxd6', 'Rxd6,Nxd6,c5,Nb7,c6', 'https://lichess.org/training/67aav');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('67AME', 'Blitz', 'eugenyraikov', 1834, 'Rami1976', 1936, 'c4,f5,d4,Nf6,Nc3,e6,Nf3,Bb4,Qc2,O-O,a3,Bxc3+,Qxc3,Ne4,Qc2,b6,b4,Bb7,Bb2,d5,Ne5,Nd7,f3,Qh4+,g3,Nxg3,hxg3,Qxh1,Nxd7,Qg1,Nxf8,Qxg3+,Kd2,Rxf8,Re1,Rd8,c5,Qf4+,Kd1,Ba6,Qd2,Qg3,Bc1,h6,Qf4,Qg6,Qxc7,Rc8,Qxa7,bxc5,Qxa6,Qe8,bxc5,Ra8,Qb6,Qa4+,Kd2,Qxd4+,Kc2,Qc4+,Kb2,Qd4+,Ka2,Qc4+,Qb3,Qxc5,Be3,Qd6,Rc1,d4,Bd2,Kh7,Qb7', 'Qxa3+,Kb1,Qa2#', 'https://lichess.org/training/67AME');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('67c28', 'Classical', 'syctale', 1687, 'Drishya', 1677, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Bc4,d6,Qb3,Qe7,Ng5,Ne5,Nxc3,Nxc4,Qxc4,Be6,Nxe6,fxe6,O-O,O-O-O,Nb5,a6,Na3,Nf6,Be3,Kb8,Qd4,c5,Qa4,Qc7,Rad1,Nd7,e5,Nb6,exd6,Bxd6,Qe4,Bxh2+,Kh1,Rxd1,Rxd1,Bd6', 'Rxd6,Qxd6,Bf4,Qxf4,Qxf4+', 'https://lichess.org/training/67c28');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('67d0k', 'Blitz', 'Calafell', 1914, 'ZS600MD', 1930, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,h3,Nf6,d3,h6,Nh2,O-O,Nc3,Be6,Ne2,Qd7,f4,exf4,Nxf4,Bc5+,Kh1,Rad8,Qf3,b5,a3,a5,Bd2,a4,Bc3,Nh7,Qg3,f6,Nxe6,Qxe6,Ng4,Bd6,e5,fxe5,Nxe5,Rxf1+,Rxf1,Re8,Re1,Ng5,d4,Nf7,Qf3,Nxe5,dxe5,Bc5,Kh2,Rf8,Qe2,Rf2,Qd3,Qf7,Re4', 'Rxg2+,Kxg2,Qf2+,Kh1,Qg1#', 'https://lichess.org/training/67d0k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('67hJw', 'Rapid', 'KaraliusD', 1709, 'MartinCavoti', 1701, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,Ng5,Nh6,Qf3,O-O,Nxh7,Kxh7,Bxh6,Ne5,Qf5+,g6', 'Qxe5,Kxh6,Qxc5', 'https://lichess.org/training/67hJw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('67qKl', 'Blitz', 'Daenies', 1551, 'A_Selman10', 1535, 'd4,e6,Bf4,Nc6,e3,d5,c3,Bd6,Bg3,Nf6,Nf3,O-O,Bd3,a6,Bh4,Re8,Ng5,e5,Nxh7,e4,Nxf6+,gxf6,Be2,Bf5,Bg4,Bg6,Bh5,Bf5,g4,Bg6,Rg1,Bxh2,Rg2,Kf8,Rxh2,Bxh5,gxh5,Ke7,Qg4,Qd6,Bg3,Qe6,Qf4,Rg8,Qxc7+,Kf8,h6,Rc8,Qxb7,Rb8,Bxb8,Rg1+,Ke2', 'Qg4+,f3,Qxf3+,Kd2,Qd1#', 'https://lichess.org/training/67qKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('67qPi', 'Rapid', 'uuga', 1659, 'yatskovanatoly', 1732, 'e4,c5,Nf3,Nc6,Bc4,d6,h3,Nf6,d3,e6,Nc3,a6,a4,Bd7,Be3,h6,d4,cxd4,Nxd4,e5,Nf5,Bxf5,exf5,Be7,Nd5,Nxd5,Qxd5,O-O,O-O,Rb8,a5,Nb4,Qd2,d5,Bb6,Qd6,Be2,Rbc8,c3,Bg5,Qd1,Nc6,b4,Qf6,Bc5,Rfd8,Rb1,Qxf5,Bg4,Qe4,Bxc8,Rxc8,Re1,Qc4,Qg4,Qxg4,hxg4,e4,Red1,Rd8,Bb6,Rd7,c4,Ne7,Bc5,Ng6,cxd5,Ne5,Re1,Rxd5,Rxe4,Nd3,Rb3,Bd8,Bd4,Nc1,Rc3,Na2,Rc8,Kh7,Re8,Bg5,Bc5,Bf4,Rcd8,Rg5,Rh8+,Kg6,Bd6,Rxg4,Bxf4,Rxf4,Rd6+,f6,Rb6,Nxb4,Rxb7,Nd3,g3,Rxf2,Rd7,Rd2,Rhd8,Rd1+,Kh2,Rd2+,Kh1,Nf2+,Kg2,Nd3+,Kf3', 'Ne5+,Ke3,Rxd7', 'https://lichess.org/training/67qPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('67VvW', 'Rapid', 'Volodymir-Kiev', 1894, 'Fisshh', 1952, 'd4,e5,dxe5,Nc6,Nf3,Qe7,e4,Nxe5,Be2,Nf6,O-O,d6,Nc3,c6,Bf4,h6,Nxe5,dxe5,Be3,Qb4,Rb1,Nxe4,Nxe4,Qxe4,Bf3,Qf5,Re1,Be7,Re2,O-O,Qd2,Be6,h3,Rad8,Qc3,Bf6,Bg4,Qe4,Bxe6,fxe6,Rbe1,Qf5,Bxa7,e4,Qb3,Bh4,Qxb7,Rb8,Bxb8,Bxf2+,Kh1,Bxe1,Rxe1,Qf2,Rxe4,Qxc2,Rxe6,Rf2,Qxc6,Qxb2,Qe8+,Rf8,Qg6', 'Rf1+,Kh2,Qxb8+', 'https://lichess.org/training/67VvW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('67wcm', 'Rapid', 'maryam73', 1917, 'tankyct2015', 1950, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,e3,c6,c5,O-O,Be2,Bf5,b4,a6,a4,Nbd7,h3,h5,Nh4,Be6,O-O,Qc7,Bd2,Kh7,b5,axb5,axb5,Rxa1,Qxa1,Ne4,b6,Qc8,Nxe4,dxe4,g4,hxg4,Qb1,gxh3,Qxe4,Nf6,Qh1,Qd7,f4,Bd5,Bf3,Ra8,Bxd5,Nxd5,Nf3,Qg4+,Kf2,Nf6,Qxh3+,Qxh3,Ng5+,Kg8,Nxh3,Ne4+,Ke2,Ng3+,Kf2,Nxf1,Kxf1,Ra2,Ke2,f6,Nf2,e5,Kd3,exd4,exd4,f5,Be3,Kf7,Nd1,Rh2,d5,cxd5,c6,bxc6,b7,Rh8,Ba7,g5,b8=Q,Rxb8,Bxb8,g4,Ne3,Ke6,Nc2,c5,Na3,c4+,Ke2,Bd4,Nb5,Bb6,Be5,Kd7,Nd4,Bxd4,Bxd4,Kc6,Kd2,Kb5,Kc3,g3,Be3,g2,Bf2,Kc6,Kb4,Kd6,Kc3,Ke6,Bd4,Kf7,Kd2,Kg6,Ke2,Kh5,Kf2', 'Kg4,Kxg2,Kxf4', 'https://lichess.org/training/67wcm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('67Xhb', 'Rapid', 'remiel16', 1917, 'vanraj01', 1951, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,Nc6,Nb3,g6,O-O,Bg7,Bg5,h6,Bh4,O-O,a3,b5,Re1,Bb7,f4,e5,Qf3,Qd7,Bxf6,Bxf6,Nd5,Bg7,Nb6,Qd8,Nxa8,Bxa8,a4,exf4,axb5,Ne5,Qxf4,axb5,Bxb5', 'Qb6+,Qf2,Qxb5', 'https://lichess.org/training/67Xhb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('682FU', 'Rapid', 'Training-Day', 2254, 'Blubberlutsch-FC-04', 2267, 'e4,e5,f4,exf4,Nf3,Nf6,e5,Nh5,Be2,d6,O-O,dxe5,Nxe5,Bc5+,Kh1,Ng3+,hxg3,fxg3,Bb5+,c6,Qh5,g6,Nxg6,Qg5,Qxg5', 'hxg6+,Qh6,Rxh6#', 'https://lichess.org/training/682FU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68d40', 'Blitz', 'Mano05', 2131, 'Hillsandwinds', 2054, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,Nb5,Bxe3,fxe3,Qh4+,g3,Qxe4,Nxc7+,Kd8,Nxa8,Qxh1,Qd6,Nge7,Nd2,Qd5,Qf4,Qf5,Qc7+,Ke8,O-O-O,d5,e4,dxe4,Nc4,Qg5+,Kb1,Be6,Qd8+,Nxd8', 'Nc7+,Kf8,Rxd8#', 'https://lichess.org/training/68d40');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68EOH', 'Blitz', 'norsoy19', 1769, 'easytoday', 1579, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,a6,c4,e6,Nc3,Be7,Be3,Nbd7,Qd2,b6,O-O-O,Bb7,g4,Nb8,h4,Nc6,Nxc6,Bxc6,g5,Nd7,h5,Ne5,Qg2,f6,f4,Nd7,e5,dxe5,Qxc6,exf4,Bxf4,e5,gxf6,Bxf6,Bxe5,Bxe5,Qe6+,Qe7,Bh3,Bf4+,Kb1,Nc5,Qc6+,Kf8,Nd5,Qe4+,Ka1,Re8,Rhf1,Kg8,Rxf4,Nd3,Rdf1', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/68EOH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68Iht', 'Blitz', 'unknownassasin', 1917, 'Anonim_24', 1938, 'e4,c5,c3,Nc6,d4,d5,exd5,Qxd5,Nf3,cxd4,cxd4,Bg4,Nc3,Qh5,Be2,Nf6,d5,Rd8,Qa4,Nxd5,Nxd5,Rxd5,O-O,e5,h3,Bxf3,Bxf3,Rd4,Qxd4,Nxd4,Bxh5,Bc5,Be3,O-O,Bxd4,Bxd4,Rab1,b6,b3,a5,Rfd1,g6,Be2,f5,Kf1,g5,g3,f4,gxf4,Rxf4,Bc4+,Kg7,Rd2,Kh6,Kg2,Kh5,Re1,Bc3,Rd6,Bxe1,f3,Rd4', 'Bf7+,Kh4,Rh6#', 'https://lichess.org/training/68Iht');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68IPF', 'Blitz', 'Artupov65', 1748, 'MRM_81', 1761, 'e4,e5,Nc3,Nc6,g3,Bb4,Bg2,Nf6,Nge2,d6,O-O,Bg4,d3,Qd7,Be3,Bh3,Qd2,Bxg2,Kxg2,h5,h3,h4,g4,Nxg4,hxg4,Qxg4+,Kh2,O-O-O,Rg1,Qf3,a3,Bxc3,Nxc3,g6,Qe2,Qh5,Qxh5,Rxh5,Kh3,Rg8,Rg4,g5,Rag1,f6,Nd5,Rh6,f4,exf4,Bxf4,Ne5,Bxe5,dxe5,c4,Kd7,Ne3,Ke6,Nf5,Rh7,b4,c6,Rd1,b6,d4,exd4,Nxd4+,Kd6,Nf5+,Kc7,Rd3,Rd7,Rxd7+,Kxd7,Rg1,Ke6,Kg4,Ke5,Re1,Rd8,Re3,Rd2,Kh3,Rf2,Re1,Kf4,Nd4', 'g4+,Kxh4,Rh2#', 'https://lichess.org/training/68IPF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68J6y', 'Rapid', 'Venkatakrishnan_S', 1723, 'Atharv1111', 1912, 'e4,g6,Nf3,Bg7,Nc3,c5,g3,d6,Bg2,Bg4,O-O,Nc6,d3,Nf6,Qd2,O-O,b3,Bxf3,Bxf3,Nd4,Bg2,Nd7,Bb2,Ne5,Qd1,f5,f4,Nec6,Rb1,e6,Ne2,Qd7,Nxd4,Nxd4,c3,Nb5,c4,Bxb2,Rxb2,Nd4,b4,Rab8,b5,a6,a4,e5,Bh3,Qe7,exf5,Nxf5,fxe5,Qxe5,Qe2,Qd4+,Qf2', 'Ne3,Qxf8+,Rxf8,Rxf8+,Kxf8', 'https://lichess.org/training/68J6y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68Jad', 'Classical', 'oscarlopezes', 1994, 'GeorgiosKokkalas', 1817, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,e6,Bd3,Bd6,Ne5,Bxe5,dxe5,Ne4,Bxe4,dxe4,Qxd8+,Nxd8,Nc3,O-O,Nxe4,Nc6,O-O-O,Nb4,Kb1,f5,exf6,gxf6,Bxc7,f5,Nd6,Nd5,Rhe1,Nxc7,Rd2,Nd5,Red1,f4,e4,Nf6,e5,Ng4,h3,Nh6,Rd4,f3,g3,Nf5,R4d3,Nxd6,exd6,Bd7,Rc3,Rf5,Rc7,Rf7,Rxb7,a5,Rd3,e5,Rc3,Bc6', 'Rxf7,Kxf7,Rxc6', 'https://lichess.org/training/68Jad');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68mqn', 'Rapid', 'FM Parogu', 2308, 'robert127', 2228, 'e4,e6,e5,d5,d4,c5,c3,Nc6,Ne2,Qb6,Qb3,Qc7,Nd2,cxd4,cxd4,Nge7,f4,Nf5,Nf3,Bb4+,Bd2,Bxd2+,Kxd2,Bd7,Rc1,Qa5+,Qc3,Qxa2,g4,Nfe7,Ng3,Rc8,Bb5,Qa5,Bxc6,Qxc3+,bxc3,Nxc6,Ra1,b6,f5,Na5,Rhb1,Ke7,Rxa5,bxa5,Rb7,Ra8', 'f6+,Kd8,fxg7,Rg8,Nh5', 'https://lichess.org/training/68mqn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68pyl', 'Blitz', 'Sergiy11', 1571, 'AhmetFikret', 1639, 'e3,e5,g4,Nc6,h4,d6,g5,Be6,Bg2,Qd7,b3,O-O-O,Bb2,Nge7,Nc3,Ng6,Nb5,a6,Bxc6,bxc6,Na3,d5,Qe2,Kb7,O-O-O,e4,h5,Bg4,f3,exf3,Nxf3,Ne7,h6,Nf5,e4,dxe4,Qxe4,Bxf3,Qxf3,Bxa3,Bxa3,gxh6,gxh6,Rhe8,Qc3,Nd4,Qb4+,Ka8,Qa5,Ka7,Bc5+,Kb7,Qb4+,Kc8,Qa5,Ne2+,Kb1,Qd5,Qxa6+,Kd7,d4,Nc3+,Kb2,Nxd1+,Rxd1,Re6,Qa7,Re2,Rf1,f5,Rf4,Re4,Rf2,Rh4,Re2,Re4,Rh2,Rde8,Rh5,Re2,Rg5,Rxc2+,Kxc2,Re2+,Kc3,Qf3+,Kb4,Rc2,Rg7+,Ke6,Qxc7,Qc3+,Ka4', 'Rxa2+,Ba3,Qxd4+,b4,Qd1+', 'https://lichess.org/training/68pyl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68uA1', 'Rapid', 'Utkarsh34789', 1744, 'Kidbuu', 1756, 'd4,Nf6,Nf3,g6,Nc3,Bg7,Bf4,c5,d5,d6,Qd2,Bg4,h3,Bxf3,gxf3,a6,O-O-O,b5,Bh6,O-O,Bxg7,Kxg7,Ne4,b4,Nxf6,exf6,h4,h5,e4,Nd7,f4,a5,f5,a4,fxg6,fxg6,f4,Qe7,Bd3,Nb6,f5,c4,Be2,Qxe4,Bxh5,gxh5,Rhg1+,Kh7,Qxb4,Nxd5', 'Qb7+,Qe7,Qxd5', 'https://lichess.org/training/68uA1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68VZL', 'Rapid', 'LaBoredDonA', 1887, 'fredy523', 1972, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Bc5,O-O,d6,h3,Na5,c3,Nxb3,axb3,Bb6,Re1,h6,Nbd2,O-O,Nf1,Re8,Be3,c5,Qc2,Qc7,Ng3,Be6,c4,Qd7,Ne2,b4,Ng3,Nh7,Nh4,Bxh3,gxh3,Qxh3,Nhf5,Ng5,Bxg5,hxg5,Qe2,g6,Ne3,Kg7,Qf1,Qd7,Kg2,Rh8,Qe2,Qh3+,Kf3,Rh4,Ng2,g4+,Ke3,Qxg2,Rg1,Qf3+', 'Qxf3,gxf3,Nf5+,Kf6,Nxh4', 'https://lichess.org/training/68VZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68x9y', 'Blitz', 'Garoy', 2559, 'GM GMJOEY93', 2695, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,f4,Bg7,Bb5+,Nfd7,Nf3,a6,Bd3,b5,a3,O-O,O-O,Re8,Kh1,c4,Bc2,Nc5,Be3,Nbd7,Qd2,Bb7,Rae1,Qc7,Bd4,Nf6,h3,Rad8,Qf2,Nd3,Bxd3,cxd3,Bb6,Qc4,Bxd8,Rxd8,Rd1,Nxe4,Nxe4,Qxe4,Rfe1,Qxd5,Qe3,Bxb2,Rxd3,Qf5,Red1,d5,Qb6,Rd7,Ne5,Bxe5,fxe5,Qxe5,Re3,Qd6,Re8+,Kg7,Qd4+,f6,Rde1,Rf7,R8e3,g5,Rf3,h6,Ref1,Bc6,Re3,Bd7,Rd1,Bc6,Rc1,Bb7,Rce1,Kg6,Qd3+,Kg7,Re6,Qf4', 'Re7,Rxe7,Rxe7+', 'https://lichess.org/training/68x9y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('68XcL', 'Rapid', 'StJake23', 1977, 'rezaeifakhroddin', 2106, 'e4,c5,Bc4,e6,Qf3,Nc6,Ne2,Ne5,Qb3,Nxc4,Qxc4,Nf6,e5,Nd5,Nbc3,Nxc3,dxc3,a6,a4,b5,axb5', 'axb5,Rxa8,bxc4', 'https://lichess.org/training/68XcL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('692bT', 'Blitz', 'panda190', 1676, 'Nudels', 1617, 'e4,g6,Bc4,Bg7,f4,e6,e5,Ne7,Nf3,a6,a4,b6,Nc3,Bb7,O-O,d6,d4,dxe5,fxe5,Nbc6,Ng5,O-O,Be3,Nf5,Rxf5,exf5,Ne2,h6,Nf3,g5,Qd3,f4,Bf2,Na5,Ba2,Qe7,c3,Rad8,Bb1,Rfe8,Qh7+,Kf8,Bc2,Bxf3,gxf3,Nc4,b3,Nd2,Kg2,c5,dxc5,Qb7,Be4,Nxe4,Qxe4,Qxe4,fxe4,Rxe5,cxb6,Rxe4,Nd4,Bxd4,Bxd4,Re2+,Kf3,Rxh2,b4,Rd7,Rd1,Ke8,a5,Rh3+,Ke4,f3,Rf1,g4,Kf4,h5,Re1+,Kf8,Re5,Rh2,Rc5,Ke8,Bf6,f2', 'Rc8+,Rd8,Rxd8#', 'https://lichess.org/training/692bT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('696Cd', 'Rapid', 'shimbhusingh', 1608, 'Milved', 1649, 'd4,d5,e4,dxe4,Nc3,f5,f3,Nc6,Be3,Nf6,Nge2,exf3,Ng3,Ng4,Qxf3,Nxd4,Bxd4,Qxd4,Bd3,Qe3+,Nge2,Qxf3,gxf3,Ne3,Ng3,Nxc2+,Bxc2,f4,Nge2,e5,O-O-O,a6,Nd5,Bd6,Rhe1,O-O,Bb3,Kh8,Kb1,c6,Nb6,Bf5+,Ka1,Rad8,Nc4,Bb4,Rg1,Bc5,Rgf1,Bd3,Rd2,Bxc4,Rxd8,Rxd8,Bxc4,b5,Bb3,Rd2,Nc3,Rxh2,Ne4,Be3,Rd1,h6,a3,Bd4,Bf7,Rxb2', 'Rxd4,exd4,Kxb2', 'https://lichess.org/training/696Cd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('698z4', 'Rapid', 'Cassiecagemain', 1941, 'vahe2222', 1947, 'e4,e6,d4,d5,Nc3,Bb4,Bd3,dxe4,Bxe4,Nf6,Bg5,h6,Bxf6,Qxf6,Nf3,O-O,O-O,Rd8,Nb5,Ba5,c3,a6,Na3,c5,Qa4,Bb6,Nc4,Ba7,Nd6,Nc6,Nxb7,Bxb7,Bxc6,Bxc6,Qxc6,cxd4,cxd4,Bxd4,Nxd4,Qxd4,Rad1', 'Qxd1,Qxa8,Qxf1+,Kxf1,Rxa8', 'https://lichess.org/training/698z4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('699y6', 'Rapid', 'Matias_Vazquez30', 1690, 'Deadlock123', 1756, 'd4,d5,c4,dxc4,e4,Nc6,Nf3,Bg4,d5,Bxf3,Qxf3,Ne5,Qg3,Qd6,Bf4,Qb4+,Nc3,Qxb2,Rb1,Nd3+,Bxd3', 'Qxc3+,Bd2,Qxd3,Qxd3,cxd3', 'https://lichess.org/training/699y6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('69e7D', 'Blitz', 'NM ShahxaibKhan', 2331, 'Larifari1', 2368, 'e4,d6,d4,Nf6,Nd2,g6,Bd3,Bg7,h4,Nc6,c3,e5,d5,Ne7,Be2,c6,c4,h6,g4,Nd7,Nf1,Nc5,Ng3,cxd5,cxd5,O-O,h5,f5,hxg6,f4,Nf5,Nxe4,Nxh6+,Bxh6,Rxh6,Qb6,Rh2,Qa5+,Kf1,Bd7,Qd3,Ng3+,fxg3', 'fxg3+,Kg2,gxh2', 'https://lichess.org/training/69e7D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('69jeH', 'Rapid', 'Osterhase2020', 1730, 'ssanruk', 1744, 'd4,e6,c4,d5,e3,Nf6,Nc3,dxc4,Bxc4,c5,Nf3,Nc6,O-O,Be7,h3,O-O,Re1,a6,a4,Qc7,e4,cxd4,Nxd4,Ne5,Be2,b6,Bf4,Bb7,Bxe5,Qxe5,Bf3,Rfd8,Nce2,Bc5,Qb3,Bxd4,Nxd4,Rxd4,Qxb6,Rd7,Rad1,Rad8', 'Qxd8+,Rxd8,Rxd8+,Ne8,Rxe8#', 'https://lichess.org/training/69jeH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('69lTc', 'Rapid', 'Octagon555', 1736, 'sdiqx', 2032, 'e4,e5,Nf3,Nc6,Bb5,d6,d3,Bg4,h3,Bxf3,Qxf3,Nf6,Bxc6+,bxc6,Bg5,Be7,O-O,O-O,c4,Nd7,Bxe7,Qxe7,b4,d5,exd5,Qxb4,dxc6,Nc5,a3', 'Qb2,Nd2,Qxd2', 'https://lichess.org/training/69lTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('69lvg', 'Blitz', 'daniyal999', 1845, 'CM surreyking', 2252, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Be2,Ne7,c4,dxc4,Qa4+,Nbc6,Qxc4,Bf5,a3,Qd7,Nc3,O-O,O-O,Ng6,Be3,Rfe8,d5,Nce7,Qb5,Qc8,Qb3,a6,Nd4,Bd7,Rfe1,Nf4,Bf3,Neg6,Nc2,Rb8,Qc4,Bg4,Bxf4,Nxf4', 'Rxe8+,Qxe8,Bxg4', 'https://lichess.org/training/69lvg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('69Szt', 'Classical', 'ChessMasterBot', 1797, 'jnet', 1749, 'e4,d6,d4,e6,Nf3,Bd7,b3,h6,Bd3,Be7,Be3,g5,h3,Bf6,c4,Nc6,Nc3,a6,Qc2,Qe7,a3,e5,d5,Nd4,Bxd4,exd4,Ne2,g4,hxg4,Bxg4,Nfxd4', 'Bxe2,Qxe2,Bxd4', 'https://lichess.org/training/69Szt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('69tSb', 'Classical', 'ramon0123', 1755, 'kevin-zhexia', 1737, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Nxb4,c3,Nc6,O-O,d6,d4,exd4,cxd4,Bb6,h3,Nf6,Re1,O-O,Nc3,Ba5,Qb3,Bd7,Bg5,h6,Bh4,Qc8,Bxf6,gxf6,Re3,Kh8,Nd5,Bxh3,Nxf6,Be6,d5,Qd8,Nh5,Bg4,dxc6,Bxh5,Qb2+,Kh7,e5,Rg8,Bd3+,Bg6,Bxg6+,Rxg6,cxb7,Rb8,Rd1,Bb6,Red3,Qg8,Nh4,Rg4,Rh3,Qg5,Qc2+,Kh8,Nf5', 'Rxg2+,Kh1,Rxf2', 'https://lichess.org/training/69tSb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('69vlY', 'Blitz', 'piacces', 1523, 'Bietnixhoch', 1505, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bg4,c3,Nf6,Qc2,Bxf3,gxf3,Nh5,d4,Nf4,dxe5', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/69vlY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('69WSH', 'Rapid', 'Artichoke96', 1694, 'Pkunk', 1889, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,Be7,O-O,Nf6,Re1,O-O,c3,Be6,Bb3,Bxb3,Qxb3,Nd7,d4,Nb6,Be3,Kh8,Qc2,f6,Nbd2,Qe8,Nf1,Rd8,Ng3,g6,a3,h5,Kf1,Kg7,Qd2,Rh8,b3,Qf7,Nh4,Qxb3,Reb1,Qa4,d5,Nc4,Qe2,Nxe3+,Qxe3,Nb8,Rxb7', 'Qa6+,Kg1,Qxb7', 'https://lichess.org/training/69WSH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('69xMj', 'Rapid', 'GabboFabbro', 1936, 'stefano1729', 1821, 'e4,d5,Nc3,d4,Nce2,e5,d3,Nc6,f4,Bd6,Nf3,f6,c3,dxc3,Nxc3,exf4,Be2,Nge7,O-O,O-O,Nh4,Nd4,Bxf4,Bxf4,Rxf4,Nxe2+,Qxe2,g5,Nf5,gxf4,Qg4+,Ng6,h4,Bxf5,exf5,Qd4+,Kh2,Kh8,fxg6,Rg8,h5,Qe5,Kg1,Qg5,Qh3,f5,Re1,Rge8,Rf1,Re3,Qh2,f3,Rxf3,Rxf3,Qe5+,Kg8,Qe6+,Kg7', 'Qf7+,Kh8,Qxh7#', 'https://lichess.org/training/69xMj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6a4QQ', 'Rapid', 'ceyelan', 1708, 'bp_table', 1676, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,Bc4,Bg4,O-O,e6,d4,a6,Bg5,b5,Bb3,Be7,Re1,O-O,h3,Bh5,Qd3,Bg6,Qd2,c6,Ne5,Nd5,Nxg6,Bxg5,f4,fxg6,fxg5,Nd7,Ne4,N7b6,Rf1,Rxf1+,Rxf1,Qe7,Bxd5,exd5,Nc5,Nc4,Qc3,Qe3+,Qxe3,Nxe3,Rf2,Nd1,Re2,Nxb2,Re7,Nc4,Ne6,Nd6,Rxg7+,Kh8,Rc7,Nf5,Nc5,Nxd4,Nd7,Ne6,Rxc6,Nxg5,Rc7,Ne6,Rb7,Rc8,Nf6,Rc7', 'Rb8+,Kg7,Ne8+,Kh6,Nxc7', 'https://lichess.org/training/6a4QQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6A4U6', 'Rapid', 'Aawlbt', 1965, 'siriusvolf', 1925, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,f3,O-O,Bc4,Na5,Bb3,Nxb3,Nxb3,b6,Qd2,d6,Bh6,b5,Bxg7,Kxg7,Nxb5,Qb6,Nc3,a5,O-O-O,Rb8,Na4,Qc7,Qxa5,Qxa5,Nxa5,Ra8,b4,Be6,a3,Nd7,Kb2,Rfc8,h4,f5,h5,fxe4,hxg6,hxg6,fxe4,Rf8,Rdf1,Rf6,Rf3,Ne5,Rxf6,Kxf6,Nb6,Ra6,Nd5+,Bxd5,exd5,g5,Rf1+,Kg6,Nb3,Nc4+,Kc3,Ne5,Ra1,Ra8,Nd2,Rc8+,Kb3,Kf5,Nf3,g4,Nxe5,dxe5,g3,Ke4,c4,Kf3,Re1,e4,c5,e3,Kc3,Ra8,Ra1,Kf2,Kd3,e2,Ra2', 'Rxa3+,Rxa3,e1=Q', 'https://lichess.org/training/6A4U6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6aCWY', 'Rapid', 'osirischess', 1703, 'marcodrum', 1686, 'd4,e6,Bf4,d6,e3,Nc6,Nf3,Nf6,Nbd2,Be7,Bd3,O-O,h4,b6,h5,h6,c3,Bb7,Qc2,Re8,g4,Nxg4,Rg1,f5,e4,Bh4,Be3,Nxe3,Qb3,Na5,Qa4,Bc6,Qa3,Nc2+,Bxc2,fxe4,Nxe4,Bxe4,Bxe4,d5,Bg6,Rf8,Nxh4,Qxh4,O-O-O,Rxf2,Rh1,Nc4', 'Rxh4,Nxa3,bxa3', 'https://lichess.org/training/6aCWY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6AdSq', 'Rapid', 'williamfp7', 1670, 'Sergey03062002', 1718, 'e4,d5,exd5,Nf6,Nf3,Bg4,Nc3,Nxd5,Nxd5,Qxd5,c4,Bxf3,Qxf3,Qxf3,gxf3,Nc6,Bh3,Nd4,Kd1,Nxf3,Bg2,Ne5,d4,Nxc4,Bxb7,Rb8,Ba6,Nxb2+,Ke1,Na4,Bf4,Rb6,Bd3,Kd7,Kf1,e6,Rc1,Bd6,Be3,Nb2,Bc2,Nc4', 'Ba4+,Ke7,Rxc4', 'https://lichess.org/training/6AdSq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6aG2u', 'Classical', 'dexi982', 1733, 'vestest', 1786, 'd4,d5,e3,c6,Bd3,Nf6,Nf3,Bg4,Nbd2,e6,Be2,c5,c3,Nc6,Ne5,Bxe2,Qxe2,Nxe5,dxe5,Nd7,Nf3,Qc7,e4,Nxe5,exd5,Nxf3+,gxf3,O-O-O,dxe6,Re8,Be3,Rxe6,O-O-O,Bd6,Qc4,Rhe8,Rd3,f5,f4,Re4,Qd5,Bxf4,Qxf5+,Kb8,Rhd1,Bxe3+,Rxe3,Rxe3,fxe3,Qxh2,Qxc5,Qe5', 'Rd8+,Rxd8,Qxe5+', 'https://lichess.org/training/6aG2u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6AHqw', 'Blitz', 'mitiapolyd', 1766, 'LotosK', 1736, 'e4,e5,Bc4,Bc5,Nf3,Nc6,d3,d6,Ng5,Nh6,O-O,O-O,Nf3,Ng4,Bg5,Ne7,h3,Nxf2,Rxf2,Bxf2+,Kxf2,Qe8,Nc3,Kh8,Nd5,Nxd5,Bxd5,c6,Bb3,f5,Kg1,f4,d4,Be6,dxe5,Bxb3,axb3,dxe5,Qd6,Rf7,Nxe5,Rf8,Qe7,Qh5,Nf3,Rae8,Qxb7,Rxe4,Qxc6,Qe8,Qxe8,Rfxe8,Rxa7,Re2,c4,Rxb2,Rb7,h6,Bh4,Ree2,Rb8+,Kh7,c5,Rxg2+,Kf1,Rgc2,b4,Rc1+,Ne1,f3,Bf2,Rcc2,Nd3,Rb1+,Be1,Ra1,b5,Raa2,Rf8,Rh2,Kg1', 'Rag2+,Kf1,Rh1#', 'https://lichess.org/training/6AHqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Alcc', 'Classical', 'emiliosmoreno', 1699, 'Ochiel1998', 1719, 'd4,d5,c4,dxc4,Nc3,a6,e4,b5,a3,Nf6,Bg5,e6,e5,h6,Bh4,g5,Bg3,Nd5,Be2,Nxc3,bxc3,Qd5,Bf3,Qd7,Bxa8,Nc6,Bxc6,Qxc6,f3,Bg7,Ne2,f6,O-O,fxe5,Bxe5,Bxe5,dxe5,O-O,Qc2,Kg7,Nd4,Qd5,Rfe1,Bb7,Kf2,c5,Ne2', 'Rxf3+,Kg1,Rf1+,Kxf1,Qxg2#', 'https://lichess.org/training/6Alcc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6AlkO', 'Rapid', 'larskat', 1914, 'Pealp', 1870, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,Bxc6+,bxc6,d4,exd4,Nxd4,Ne7,Bg5,h6,Bxe7,Qxe7,Nxc6,Qf6,e5,dxe5,Nxe5,O-O,Nd3,Rd8,Nc3,Bb7,Qg4,Rd4,Qh5,Rh4,Qxc5,Bxg2,Kxg2', 'Rg4+,Kh1,Qf3#', 'https://lichess.org/training/6AlkO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ApcO', 'Classical', 'AKingWhoStillCared', 1732, 'dibala21', 1646, 'd3,d5,e4,e5,exd5,Bd6,Nf3,Nf6,Nc3,c6,dxc6,bxc6,Be2,Nbd7,O-O,Ba6,Re1,h5,Bg5,Be7,Bf1,Ng4,h3,Bxg5,hxg4,hxg4,Nxe5,Nxe5,Rxe5+,Kf8,Qxg4,Bd2,Qb4+,Kg8,Re2,Bxc3,Qxc3,Qh4,f3,Qh2+,Kf2,f5,Re7', 'Qh4+,g3,Qxe7', 'https://lichess.org/training/6ApcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6auNZ', 'Rapid', 'Jimy_Hendrik', 2112, 'ExAstraPhysica', 2181, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,e5,Qb6,Qxb6,axb6,Bd3,d6,Bf4,dxe5,Bxe5,Ne7,Bxc7,Be6,Bxb6,Nd5,Bd4,O-O-O,O-O,Nf4,Bb6,Rd6,Bc5,Rc6,Bxf8,Rxf8,Be4,Rc4,f3,Rd8,b3,Rcd4,Nc3,Rd2,Rad1,Ne2+,Kh1', 'Nxc3,Rxd2,Rxd2', 'https://lichess.org/training/6auNZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6AZvG', 'Blitz', 'jopav', 1983, 'Abhishreya_1', 1971, 'e4,e5,Bd3,Nc6,Qe2,Nf6,c3,Bc5,Bc2,O-O,h3,d5,d3,dxe4,dxe4,Be6,Nf3,b5,Ng5,Bc4,Qf3,h6,b3,Be6,Nxe6,fxe6,O-O,Nd5,Qe2,Nf4,Qxb5,Ne2+,Qxe2,Qf6,Nd2,Rad8,Nf3,Ne7,Be3,Bb6,Rad1,Ng6,Nh2,Rde8,Ng4,Qh4,Bxb6,axb6,Qc4,Nf4,Nxe5,Qg5,Ng4,h5,Ne3,Nxh3+,Kh2,Nxf2,Qe2', 'Qh4+,Kg1,Qh1#', 'https://lichess.org/training/6AZvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6b17L', 'Classical', 'alexkupri', 1683, 'bartu1234', 1681, 'Nf3,d5,d4,Nf6,c4,e6,c5,Nc6,e3,b6,b4,a5,b5,Nb4,a3,bxc5,axb4,cxd4,Rxa5', 'Bxb4+,Bd2,Bxa5', 'https://lichess.org/training/6b17L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6B2bl', 'Blitz', 'MaAndria22', 1582, 'ebi6527', 1521, 'Nc3,e5,e4,Nf6,Nf3,Nc6,g3,Bb4,d3,h6,Bg2,O-O,O-O,d6,a3,Ba5,b4,Bb6,Na4,Bg4,h3,Be6,Nxb6,cxb6,Nh4,Qd7,Nf5,Bxf5,exf5,Qxf5,g4,Qd7,Be4,Nxe4,dxe4,Rac8,c3,Qe6,f3,Rfd8,Kf2,d5,Qb3,d4,c4,b5,f4,bxc4,Qg3,f6,f5,Qe7,h4,c3,g5,h5,g6,d3,Qf3,d2,Qxh5,dxc1=Q', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/6B2bl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6b6KU', 'Rapid', 'soldier89_kn', 2176, 'Kornkreis', 2006, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nf3,Nc6,Nc3,e6,Be2,Bb4,O-O,O-O,Bg5,h6,Bxf6,Qxf6,cxd5,Bxc3,dxc6,Ba5,Qb3,bxc6,Rac1,Bd7,Ne5,Rfd8,Bf3,Rab8', 'Nxd7,Rxb3,Nxf6+,gxf6,axb3', 'https://lichess.org/training/6b6KU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6b6PG', 'Rapid', 'ajfirecracker', 1906, 'SUKULOMOHAMED', 1958, 'Nc3,c5,f4,Qc7,e3,Nc6,Nf3,Nf6,Bc4,e6,O-O,d5,Bb5,Bd7,Bxc6,Bxc6,Ne5,Bd6,Nxc6,bxc6,d3,h5,h3,g6,a4,a6,b3,Ke7,Bb2,Rag8,Ne2,g5,f5,e5,e4,g4,h4,g3,Rf3,Ng4,Rxg3,f6,Nc3,d4,Ne2,Rg7,Bc1,Rhg8,Qe1,Kd7,Kh1,Qd8,Ng1,Bc7,Nf3,Ba5,Bd2,Bxd2,Nxd2,Ne3,Rxg7+,Rxg7,Qf2,Nxg2', 'Rg1,Qf8,Rxg2', 'https://lichess.org/training/6b6PG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6B93p', 'Rapid', 'ilkernadi', 2358, 'Gafar2022', 2271, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,h4,f6,exf6,Nxf6,Nf3,O-O,Bd3,c5,dxc5,Bxc5,Qe2,Nc6,O-O-O,h6,Bf4,Nh5,Bh2,Nf4,Bxf4,Rxf4,Ng5,hxg5,hxg5,Qxg5,Kb1,Rxf2,Bh7+,Kf7,Rhf1,Rf6,Qb5,Be3,Rfe1,Bf2,Re2,Nd4,Qc5,Nxe2,Qc7+,Ke8,Nxe2,Bb6,Qd6,Bd7,a3,Rc8,Rh1,Rh6,Rf1,Rf6,Rh1,Bc5,Bg6+,Kd8', 'Rh8+,Rf8,Rxf8#', 'https://lichess.org/training/6B93p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6b9yi', 'Rapid', 'Tushar_play_chess', 1752, 'Catalin61', 1748, 'd4,d5,Bf4,e6,Nf3,h6,e3,c5,c3,Nc6,Nbd2,Nf6,Ne5,Bd7,Ndf3,Nh7,Nxd7,Qxd7,Bb5,a6,Ne5,Qc8,Bxc6+,bxc6,Qa4,f6,Nxc6,Qd7,b3,Rc8,Na7,Qxa4,bxa4,cxd4,Nxc8,e5,Bg3,dxc3,Ke2,Ng5,Rab1,Ba3,Rb8,O-O,Rc1,Bxc1,Ne7+,Kf7,Rxf8+,Kxf8,Nxd5,Bb2,Kd3,Kf7,Nxc3,Ke6,Nb1,Kd5,Kc2,Ba1,Nd2,e4,Nb3,Be5,Bxe5,Kxe5,Nc5,a5,Kc3,Kd5,Nb3,Ne6,Nxa5,Kc5,Nb3+,Kb6,Kb4,Nc7,a5+,Ka6,Nc5+,Ka7,Nxe4,f5,Nd6,g6,Nb5+,Kb7,Nxc7,Kxc7,Kc5,Kb7,Kb5,Ka7,a6,g5,h3,h5,g4', 'fxg4,hxg4,h4', 'https://lichess.org/training/6b9yi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6b9Yn', 'Rapid', 'rassem', 1721, 'Enderkira73', 1763, 'e4,e6,b3,d5,exd5,exd5,Bb2,Nf6,Nf3,c5,d3,Nc6,Be2,Be7,O-O,O-O,d4,Re8,Bb5,Bd7,Bxc6,Bxc6,Ne5,Bb5,c4,dxc4,bxc4,Ba6,Na3,Qc7,Nb5,Bxb5,cxb5,Rad8,Qc1,Bd6,Re1,cxd4,Qxc7,Bxc7,Nf3,d3,Rxe8+,Rxe8,Bxf6,gxf6,Rd1,Rd8,a4,a6,bxa6,bxa6,Ne1,d2,Nf3,Ba5,Kf1,Kg7,Ke2,Re8+,Kd3,Rd8+,Kc2,Rc8+,Kb3,Rc3+,Kb2,Rd3,Kc2,Rc3+,Kb2,h5,Nxd2,Rd3,Kc2,Rc3+,Kb2,f5,Nf3,Rc4,Rd5,Kg6,Rd4', 'Bc3+,Kb3,Rxd4', 'https://lichess.org/training/6b9Yn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6BDO2', 'Rapid', 'Robbiouk', 1881, 'Berdribruci', 1884, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,Nh5,Bg3,Nxg3,hxg3,h6,c4,dxc4,Bxc4,e6,Nc3,Na5,Bd3,Qd6,Qa4+,Nc6,Nb5,Qe7,Ne5,Bd7,Nxc7+,Kd8,Nxd7,Kxc7,Nxf8,Rhxf8,Rc1,Rac8,Bb5,Kb8,Bxc6,Qd6,O-O,Rxc6,Rxc6,Qxc6,Qxc6,bxc6,Rc1,Kb7,f4,Rb8,b3,Kc7,Rc4,Rb5,e4,Ra5,Rc2,Kd6,Kf2,f6,Ke3,g5,a4,g4,Rc3,Rh5,Kf2,Rh1,e5+,fxe5,fxe5+,Kd5,Ke3,Re1+,Kf4', 'Re4#', 'https://lichess.org/training/6BDO2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6bFpq', 'Rapid', 'elishabenabuya', 1660, 'Radek-M', 1644, 'd4,Nf6,Nf3,e6,Bg5,Be7,e4,Nxe4,Bxe7,Qxe7,Bd3,Nd6,Nc3,O-O,O-O,Nc6,Ne4,Nb4,Neg5,f6,Nxh7,Rf7,Bg6,Nd5,Ne5,fxe5,Qh5,Nf4,Nf6+,gxf6,Bxf7+,Nxf7,Qg4+,Ng6,dxe5,Nxe5,Qg3,d5,f4,Qc5+,Kh1,Qxc2,fxe5,fxe5,Rac1,Qe4,Qf2,Nf4,Qg3+,Kf7', 'Rxc7+,Bd7,Rxd7+', 'https://lichess.org/training/6bFpq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6BKW5', 'Blitz', 'ZamilC9C9C9C9C9', 2100, 'tanmay8', 2177, 'd4,e5,dxe5,Bc5,Nf3,d6,e4,Ne7,Bg5,Bg4,exd6,cxd6,Nc3,Nbc6,Bb5,f6,Bf4,O-O,Bxc6,Nxc6,O-O,Nd4,b4,Bb6,Nd5,Bxf3,gxf3,Ne6,Nxb6,Nxf4,Nxa8,f5,Qd2', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/6BKW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6BKXW', 'Rapid', 'CemCimet', 1806, 'CarryOn2', 1843, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,Nf6,Qe2,a6,Be3,Bxe3,Qxe3,d6,Nd5,O-O,O-O-O,Na5,Bb3,Nxb3+,axb3,Nxd5,exd5,Bf5,h3,b5,g4,Bh7,h4,f6,g5,fxg5,hxg5,hxg5,Nxg5,Bg6,Ne6,Qf6,Nxf8,Rxf8,Rh2,Kf7,Qa7', 'Qf4+,Kb1,Qxh2,Qxc7+,Kg8', 'https://lichess.org/training/6BKXW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6BlA6', 'Rapid', 'DonQui99', 1760, 'ds_345', 1735, 'd4,c6,c4,d5,e3,Nf6,Nc3,Bg4,Qb3,e6,h3,Bh5,Qxb7,Nbd7,Qxc6,Bb4,Bd2,O-O,cxd5,Nxd5,Nxd5,Bxd2+,Kxd2,exd5,Qxd5,Qc7,Qxh5,Rac8,Qd1,Ne5,Rc1,Qa5+,Rc3,Rxc3,bxc3,Qxa2+,Qc2,Qd5,f3,a5,Qa4,Rb8,e4,Rb2+,Ke3,Nc4+,Bxc4', 'Qg5+,f4,Qg3+,Nf3,Qf2+,Kd3,Qe2#', 'https://lichess.org/training/6BlA6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6blzp', 'Rapid', 'bawa_rv', 1700, 'prostoman', 1627, 'e4,e5,Nf3,Qf6,a3,a5,Nc3,c6,d4,Bd6,Bg5,Qe6,Be2,Ne7,O-O,Ng6,b3,O-O,Bc4,Qe8,Ne2,Bc7,Ng3,d6,Qd2,Be6,Bxe6,fxe6,dxe5,Nxe5,Nxe5,dxe5,Rad1,Na6,Qd7,Rd8', 'Bxd8,Qxd7,Rxd7', 'https://lichess.org/training/6blzp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6bMdO', 'Classical', 'dannyboy986', 1793, 'Naiktl', 1813, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Nc3,Bg7,Bd2,d5,exd5,cxd5,Qf3,Bb7,O-O-O,Nf6,Bb5+,Nd7,Qg3,O-O,Qh3,Nb6,Bh6,Bc8,Qh4,e6,Qxd8', 'Bxh6+,Kb1,Rxd8', 'https://lichess.org/training/6bMdO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6bpy1', 'Blitz', 'esquireandknight', 1538, 'FonoyMaster', 1641, 'd4,Nf6,c4,e6,Nc3,d5,e3,Nbd7,Nf3,Be7,Be2,O-O,O-O,dxc4,Bxc4,a6,e4,b5,Bb3,c5,e5,Ne8,d5,exd5,Nxd5,c4,Bc2,Bb7,Nxe7+,Qxe7,Bf4,Rd8,Qe2,Nc5,Bg3,Nc7,Rad1,N7e6,b4,Nd7,a3,a5,bxa5,Qxa3,Rd6,Qxa5,Rfd1,Ndc5,Bh4,Rxd6,Rxd6,Qc3,Ng5,h6,Nxe6,Nxe6,Rb6,Qa1+,Bd1,Ba6,h3,Ra8,Kh2,c3,Qc2,b4,Rxb4,Rd8,Bg4,Rd1,Rb3,Qc1,Rxc3', 'Rh1+,Kg3,Qf4#', 'https://lichess.org/training/6bpy1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6bsdC', 'Rapid', 'gbfischer', 1664, 'schachessat', 1701, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,O-O,Nf6,e5,Ng4,Bxf7+,Kxf7,Ng5+,Kg8,Qxg4,Nxe5,Qf5,d6,Qe4,h6,f4,hxg5,fxe5,Rh4,Qd5+,Kh7,Kh1,Bd7,exd6,cxd6', 'Bxg5,Rxh2+,Kxh2', 'https://lichess.org/training/6bsdC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6BUqD', 'Rapid', 'kkkkesl', 1635, 'ShegerKhan87', 1715, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nc6,Nf3,h6,O-O,Be7,Qb3,d5,Bxd5,Be6,Bxe6,fxe6,Qxe6,Qd6,Qf5,g6,Qg4,h5,Qh3,g5,Qf5,Nh6,Qb5,Ng4,e5,Qe6,Nxc3,O-O-O,Ne4,Rd5,Qb3,Ngxe5,Nfd2,g4,Nc3,Nd4', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/6BUqD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6BUXt', 'Rapid', 'Nekedisjo', 1941, 'BlunderET', 1842, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,dxc4,e3,Be7,Bxc4,h6,Bh4,a6,Nf3,Nbd7,O-O,b5,Bb3,Bb7,Rc1,Nb6,Bg3,Nbd5,Re1,Nxc3,bxc3,c5,Bc2,c4,e4,Nh5,Ne5,Nxg3,hxg3,Bf6,f4,Bxe5,fxe5,Qg5,Qf3,Qg6,d5,exd5,exd5,Qg5,Rcd1,O-O,Qf4,Rad8,d6,Bc6,Be4,Bd7,Qxg5,hxg5,Bb7,a5,a3,Rb8,Bd5,Kh7,Rd2,Rbe8,Rde2,g6,Rf2,Kg7,Ref1,Rxe5,Rxf7+,Rxf7,Rxf7+,Kh6,Rxd7,Rxd5,Rb7,g4,d7,Kg5', 'Rxb5,Rxb5,d8=Q+', 'https://lichess.org/training/6BUXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6BVTK', 'Rapid', 'WarElephants', 2173, 'FM lindenice', 2319, 'd4,c5,c4,cxd4,Qxd4,Nc6,Qd2,d6,Nc3,g6,Nf3,Bg7,b3,Nf6,Bb2,O-O,e4,Qa5,Rb1,Bg4,Be2,Rac8,O-O,Nxe4', 'Nxe4,Qxd2,Nexd2', 'https://lichess.org/training/6BVTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6BYge', 'Rapid', 'noah_995', 1640, 'nazar111111', 1674, 'e4,d6,Nf3,Nf6,Nc3,g6,d3,Bg7,Be3,b6,h3,Bb7,Qd2,e5,Bh6,O-O,Bxg7,Kxg7,g4,Kg8,g5,Nfd7,h4,Re8,h5,Nf8,hxg6,fxg6,Be2,Nbd7,O-O-O,Nc5,Rh6,Nce6,Rdh1,Nf4,Bd1,Qe7,Ne2,Qf7,Nh2,Qxa2,Qc3,Nxe2+,Bxe2,Qa1+,Kd2,Qxh1,Qc4+,Kh8,Ng4,Qg2,Qf7,Bxe4,Rxg6,Bxg6', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/6BYge');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6BYpb', 'Rapid', 'cergei200', 1778, 'raihan1rangers', 1778, 'd4,Nf6,Nc3,e6,Bg5,Be7,Nf3,d5,e3,Nbd7,Ne5,h6,Nxd7,Bxd7,Bxf6,Bxf6,Bd3,O-O,O-O,b6,f4,c5,Rf3,cxd4,exd4,Bxd4+,Kh1,Bxc3,bxc3,Qc7,Qd2,Rac8,Rg3,Qxc3', 'Bh7+,Kxh7,Rxc3', 'https://lichess.org/training/6BYpb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6c064', 'Rapid', 'caguj', 1719, 'emiliomatos', 1746, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,d6,O-O,Bf5,Re1,Qc8,e4,Bh3,Bh1,e5,d3,h6,Bd2,a5,a3,a4,b4,axb3,Qxb3,Nbd7,Be3,Ng4,Nd5,Nxe3', 'Ne7+,Kh7,Nxc8', 'https://lichess.org/training/6c064');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6C5Lr', 'Rapid', 'blunder_blunder', 1774, 'invaderDZ', 1940, 'e4,c6,d4,d5,Nc3,g6,Nf3,Bg7,Bg5,f6,Bh4,Bg4,h3,Bxf3,Qxf3,a6,exd5,cxd5,Qxd5,Qxd5,Nxd5,Kd7,Nb6+,Kd8,Nxa8,e6,Nb6,Ne7,Nc4,Nd5,c3,Ke7,Bd3,Nd7,O-O-O,Nf4,Bf1,b5,Ne3,Bh6,g3,Nd5,Re1,Nxe3,fxe3,g5,Bxg5,Bxg5,Kc2,Rg8,h4,Bh6,Rh3,f5,Bd3,Nf6,e4,f4,Rg1,f3,Rf1,f2,Rxf2,Ng4,Re2,Ne3+,Kb1,Rf8,Rxe3,Bxe3,Rh1,Rg8,c4,bxc4,Bxc4,Bxd4,Bxa6,Rxg3,Rd1,Be5,Rd3,Rg2,Bb5', 'Rxb2+,Kc1,Rxb5', 'https://lichess.org/training/6C5Lr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6c7kR', 'Blitz', 'Testgreaam', 2091, 'mambokong', 2041, 'e4,g5,d4,Bg7,Bxg5,c5,Be3,Qb6,Nc3,cxd4,Nd5,Qxb2,Nc7+,Kd8,Nxa8,dxe3,Rb1,exf2+,Kxf2,Bd4+,Kg3,Qc3+,Nf3,Be5+,Kf2,Qc5+,Ke2,Bf4,Qd3,b6,g3,Ba6,gxf4,Bxd3+,cxd3,Qc2+,Nd2,Nc6,Bg2,Nf6,Rhc1,Qxa2,e5,Ng4,Bxc6,dxc6,Rxc6,Kd7,Rc7+,Ke6,Rc6+,Kd5,Rc7,Rxa8,Rxe7,Rf8,Rc1,Nxh2,Rd7+,Ke6,Rd6+,Kf5', 'Rf6+,Kg4,Rg1+,Kh5,Rg5+,Kh4,Rh6#', 'https://lichess.org/training/6c7kR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6c7rr', 'Classical', 'AndreiBorislav', 1889, 'Santosh9Pimpre', 1860, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bf4,Ngf6,c4,Qb6,Qd2,e5,dxe5,Bb4,exf6,Nxf6,Be2,O-O,O-O,Bxd2,Bxd2,Qxb2,Rfe1,b6,Bg5,c5,Nh4,Bc2,Bf3,Rad8,Nhf5,Rd7,a4,Rfd8,a5,h6,Be3,Bxf5,Nxf5,Qc2,axb6,Qxf5,bxa7,Rxa7,Rxa7,Qc8,Ra8,Qd7,Rxd8+,Qxd8,Bxc5', 'Qa5,Rd1,Qxc5', 'https://lichess.org/training/6c7rr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6C8Ig', 'Blitz', 'Phoenix007', 1960, 'liguaneachess', 2007, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,d3,Bd6,Re1,Qh4,g3,Qh3,Re4,Bd7,Rh4,Qe6,Nd2,f5,Nf3,Be7,Bg5,h6,Bxe7,Qxe7,Qd2,Rae8,Re1,Qf6,Rd4,Be6,c4,Nc7,Rd6,c5,Qa5,Qf7,Ne5,Qe7,Rc6,Na8,Rxe6,Qxe6,cxb5,Qxb3,axb3,Rf6,bxa6,Rfe6,f4,g5,Qxc5,Nb6,a7,Nd7,Nxd7,Rxe1+,Kf2', 'R8e2+,Kf3,g4#', 'https://lichess.org/training/6C8Ig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6CbXc', 'Rapid', 'skrillex03', 1740, 'Rony_youssef', 1737, 'e4,e5,f4,Nc6,Nf3,exf4,d4,d5,Nc3,dxe4,Nxe4,Qe7,Bd3,f5,Bxf4,fxe4,Ne5,Qh4+,Bg3,Qf6,Bxe4,Bd6,Rf1,Qe6,d5,Qe7,dxc6,Bxe5,Bxe5,Qxe5,Qf3,Nf6,O-O-O,b6,Rde1,Qg5+,Kb1,O-O,Qb3+,Kh8,Qb4,Qc5,Qd2,Be6,Bf3,Qa5', 'Qxa5,bxa5,Rxe6', 'https://lichess.org/training/6CbXc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6CHAx', 'Blitz', 'FM Bulanov_Brest', 2401, 'GM FakeBruceLee', 2742, 'f4,d5,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d3,c5,Nc3,Nc6,e4,dxe4,dxe4,e5,Qxd8,Rxd8,Nxe5,Nxe5,fxe5,Ng4,Bg5,Re8,Nd5,Nxe5,Nc7,Bg4,Nxa8,Rxa8,Bf6,Re8,Bxg7,Kxg7,h3,Be6,Rad1,Nc6,Rfe1,b6,a3,Ne5,Kf2,h5,Rd2,Nc4,Rde2,Nxb2,e5,Nc4,Be4,Nxa3,Ra1,Nb5', 'Bc6,Re7,Bxb5', 'https://lichess.org/training/6CHAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6cJW3', 'Rapid', 'Djamparing', 1766, 'Mizuna', 1763, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Nc6,d4,Bg4,Be2,e5,dxe5,Bxf3,Bxf3,Qxe5+,Be3,Bc5,Bxc6+,bxc6,O-O,Bxe3,Re1,O-O,Rxe3,Qxb2,Re7,Rad8,Qe1,Rc8,Rd1,Qxa2,Qc3,Qa4,h3,Rfe8,Qe3,Rxe7,Qxe7,h6,Rd7,Qa1+,Kh2,Qa5', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/6cJW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6cKj3', 'Rapid', 'justheretolearn', 1945, 'Me_and_Myself', 2020, 'e4,Nc6,Nf3,e5,Bb5,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,c6,Ba4,Qa5+,Nc3,Qc5,Qxc5,Bxc5,e5,Ng4,O-O,O-O,h3,Nxe5,Bf4,Ng6,Bg3,d5,Ne2,Be6,c3,Rad8,Nf4,Nxf4,Bxf4,Bd6,Bxd6,Rxd6,Bc2,Rfd8,Rfe1,d4,cxd4,Rxd4,Re5,R4d5,Rxd5,Rxd5,Re1,h6,Bb3,Rd6,Bc2,Rd2,Be4,Rxb2,Rd1,f6,Bg6,Kf8,Rd8+,Ke7,Re8+,Kd7,f4,Bd5,f5,Rxg2+,Kf1,Rxa2,Rb8,c5,h4,Bc4+,Ke1,Bd5,Kd1,c4,Re8,b5,Rb8,Bc6,Rg8,c3,Rxg7+,Kd6,Kc1,Be4,Rf7,Ke5,Re7+,Kd4,Rd7+,Kc4', 'Bf7+,Kc5,Bxa2', 'https://lichess.org/training/6cKj3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6CKK6', 'Blitz', 'sandeepdhillo', 1811, 'Dr__Grandmaster', 1765, 'e4,c5,c3,d6,d4,cxd4,cxd4,g6,Nc3,Bg7,Nf3,Nf6,Bb5+,Bd7,O-O,O-O,Be2,Nc6,d5,Ne5,Nxe5,dxe5,Be3,b6,f4,exf4,Bxf4,h5,h3,Nh7,Bxh5,gxh5,Qxh5,Qc8,Bh6,Qc5+,Kh1,Qd4,Bxg7,Qxg7,Rf3,Kh8,Raf1,Be8,Rf4,Qg6', 'Qxg6,fxg6,Rxf8+,Nxf8,Rxf8+', 'https://lichess.org/training/6CKK6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6CLiF', 'Rapid', 'parth_sahu', 1847, 'Adrishak', 1866, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,O-O,Bc5,Re1,O-O,Na4,Be7,d4,d6,d5,Nb8,Bd3,c6,dxc6,bxc6,Be3,Ba6,Qd2,Bxd3,cxd3,Ng4,h3,Nxe3,Qxe3,Na6,a3,Qa5,Nc3,Nc5', 'b4,Qb6,bxc5', 'https://lichess.org/training/6CLiF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6cMly', 'Blitz', 'the_ginga_ninja49', 1513, 'Pif_Paf', 1543, 'e4,e5,Nf3,Nf6,a3,Bc5,h3,Nxe4,d4,exd4,Nxd4,Qf6,Be3,Nc6,b4,Bxd4,Bxd4,Nxd4,Qd3,Qxf2+,Kd1,d5,Nd2,Bf5,Nxe4,Bxe4,Qd2,Qf5,Qxd4,Bxc2+,Kc1,O-O-O,Qxa7,d4,Be2,d3', 'Bg4,d2+,Kb2,Qxg4,hxg4', 'https://lichess.org/training/6cMly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6coPS', 'Rapid', 'boloto', 1932, 'pnsak', 1955, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bf4,c6,e3,O-O,Rc1,Na6,a3,Nc7,h3,dxc4,Bxc4,Nfd5,Bg3,f5,Be5,Qe8,O-O,Qg6,Ne2,Qh5,Bxc7,Nxc7,Nf4,Qf7,Ne5,Qf6,Qb3,Nd5,Bxd5,exd5,Rfd1,g5,Nh5,Qh6,Ng3,f4,exf4,gxf4,Ne4,Kh8,Nc5,Rb8,Ncd7,Bxd7,Nxd7,f3,Nxb8,Qg5,g3,Bd6,Nd7,Bxg3,Nxf8,Bf4+,Kf1', 'Qg2+,Ke1,Qg1#', 'https://lichess.org/training/6coPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6cqlt', 'Rapid', 'iAditya09', 1652, 'citygirl', 1640, 'd4,e6,Bf4,c5,e3,cxd4,exd4,d6,c3,Nc6,Bb5,Qc7,Nf3,Nf6,Nbd2,Be7,O-O,O-O,Re1,a6,Ba4,b5,Bb3,Bb7,c4,bxc4,Nxc4,Rad8,Rc1,Ba8,Bg3,Qb7,Qd2,d5,Na5,Nxa5,Qxa5,Ne4,Rc7,Qb5', 'Qxb5,axb5,Rxe7', 'https://lichess.org/training/6cqlt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Cqwm', 'Rapid', 'Kafkasdede41', 1909, 'fridrichengels', 2069, 'c4,e5,Nc3,Bc5,g3,a5,a3,Nc6,Bg2,f5,d3,Nf6,Bg5,O-O,Bxf6,Rxf6,Nf3,Nd4,Nxd4,exd4,Nd5,Rh6,h4,c6,Nf4,Bd6,Qb3,Bxf4,gxf4,Re6,c5,Qe7,Bh3,g6,h5,Kg7,h6+,Kh8,Bf1,Qxc5,f3,b5,Kf2,Qd6,Rh4,Qe7,Rh2,Ba6,Rc1,Re8,Re1,Re3,Qc2,b4,Rd1,bxa3,bxa3,Qxa3,Kg1,Qd6,Rh4,Bb5,Qb2,a4,Qa2,Qe6,Qb2,Qd5,Rc1,d6,Qb4,Ra8,Kf2,a3,Bg2,a2,Ra1,Qc5,Qb2,Qc3', 'Qxc3,dxc3,Kxe3', 'https://lichess.org/training/6Cqwm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Crxm', 'Rapid', 'victex', 1743, 'CamelClutcher', 2258, 'e4,c5,Nf3,e6,e5,d6,d4,cxd4,Qxd4,Nc6,Bb5,Qa5+,Nc3,Qxb5,Nxb5,Nxd4,Nfxd4,dxe5,Nf3,e4,Nd2,Kd8,Nxe4,a6,Nbd6,f5,Nf7+,Ke8,Neg5,h6,Nxh8,hxg5,Bxg5,Ne7,O-O-O,g6,Bxe7,Bxe7,Nxg6,Bf6,f4,Kf7,Ne5+,Ke7,h4,b5,h5,Bxe5,fxe5,Bb7,Rd2,Bd5,h6,Rh8,b3,b4,Rh3,Kf7,c4,bxc3,Rxc3,Rxh6,Rc7+,Ke8,Ra7,Rh1+,Kb2,Re1,Rxa6,Rxe5,Rc2,Ke7,Rc7+,Kf6,Raa7,Bxg2,Rf7+,Kg5,Rg7+,Kf4,Rxg2,Re1,a4,Kf3,Rg6,e5,Ra5,f4,Re6,e4,Kc2,Re2+,Kd1,Ra2,Rc5,e3,Ke1', 'Ra1+,Rc1,Rxc1#', 'https://lichess.org/training/6Crxm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6cTVu', 'Rapid', 'Guilhem18', 1816, 'eparqi', 1698, 'd4,d5,c4,c6,Nc3,Bf5,Qb3,Qd7,Nf3,e6,e3,a6,a4,Bd6,Be2,Nf6,O-O,Be4,Nxe4,Nxe4,c5,Be7,Ne5,Qc7,f3,Nf6,Rd1,Nbd7,Nxd7,Nxd7,e4,dxe4,fxe4,Nf6,e5,Nd5,Rf1,O-O,Qh3,Qd8,Bd3,h6,Qf3,Bg5,Qe4,g6,Bxg5,Qxg5,Rf3,Kg7,Rg3,Qf4', 'Rxg6+,fxg6,Qxg6+,Kh8,Qh7#', 'https://lichess.org/training/6cTVu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6CU9N', 'Classical', 'benjaminfah', 1627, 'Bruhaspatee', 1690, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,Nxe5,Nxe5,d4,Nxc4,dxc5,Re8,b4,Nxe4,Nxe4,Rxe4,Qd5,Qe7,f3,c6', 'Qxe4,Qxe4,fxe4', 'https://lichess.org/training/6CU9N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6CuvB', 'Blitz', 'AL_A', 2083, 'violent_potato', 2055, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Bc5,O-O,O-O,Bg5,d6,Qf3,Bd4,c3,Be5,Nd2,h6,Bh4,Bg4,Bxf6,Qxf6,Qxg4,Rab8,f4,Rxb2,fxe5,Qxe5,Nc4,Qc5+,Kh1,Rbb8,Rf5,d5,Raf1,Rbd8,Ne5,Qxc3,Nxf7,Qxd3,Nxd8', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/6CuvB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6CVc0', 'Blitz', 'jovannedimasupil_07', 2143, 'WhitePawnMatter', 2174, 'e4,Nf6,d3,d5,e5,Nfd7,d4,e6,c3,c5,Nf3,a6,Bd3,Nc6,O-O,Be7,Nbd2,b5,dxc5,Ndxe5,Nxe5,Nxe5,Nf3,Nxd3,Qxd3,Bxc5,Re1,Qb6,Nd4,O-O,Be3,e5,Nf5,Bxe3,Ne7+,Kh8,Rxe3,d4,Rxe5,dxc3,bxc3,Be6', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/6CVc0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6cWiR', 'Classical', 'CJ_Rabe', 1872, 'abdul2020', 2005, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,h6,b3,Nf6,Nc3,Bc5,h3,O-O,Bb2,d6,Bc4,Be6,Nd2,Bxc4,Nxc4,Nd4,O-O,a6,Kh1,b5,Ne3,b4,Ncd5,Nxe4,f4,Ng3+,Kh2,Nxf1+,Qxf1,exf4,Qxf4,Ne6,Qg3,f6,Nf5,Ng5,h4,Qd7,Nde7+,Kf7,hxg5,hxg5,Kh3,Rh8+,Kg4,Rh4+,Kf3,Rf4+,Ke2,Qe6+,Kd3,Qe4+,Kd2,Rf2+', 'Qxf2,Bxf2,Nxd6+,Kxe7,Nxe4', 'https://lichess.org/training/6cWiR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Cwyq', 'Rapid', 'Phil12345', 1755, 'Westbest', 1760, 'd4,d6,Nf3,Nd7,c4,c5,d5,g6,e4,Bg7,Nc3,Ngf6,Bd3,Ng4,h3,Nge5,Nxe5,Nxe5,O-O,Nxd3,Qxd3,O-O,Bg5,Bd7,Rfe1,Be5,f4,Bd4+,Kh1,a6,Rab1,Kg7,Ne2,Bf6,Bxf6+,exf6,Qb3,b5,cxb5,axb5,a3,c4,Qc3,Qc8,Nd4,h5,Re3,h4,Qe1,g5,Qb4,g4,f5,gxh3,Rxh3,Qc7,Rxh4,Rh8,g3,Rae8,Re1,Qb6,Nf3,Qf2,Qc3,Qxg3', 'Rg1,Qxg1+,Kxg1,Rxh4,Nxh4', 'https://lichess.org/training/6Cwyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6D3GC', 'Rapid', 'player10102', 1769, 'Juncarl623', 1762, 'd4,Nf6,Bf4,e6,Nc3,d5,e3,Be7,Bd3,O-O,Nf3,h6,O-O,c5,Ne2', 'c4,Bxc4,dxc4', 'https://lichess.org/training/6D3GC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6d44U', 'Rapid', 'Yassen7', 1699, 'Donarber', 1663, 'c4,e5,Nc3,Nf6,b3,d5,e3,d4,exd4,exd4,Nce2,c5,d3,Bd6,Nf3,O-O,g3,Bg4,Bg2,Re8,O-O,Qd7,Re1,Bh3,Nf4,Bxf4,Bxf4,Rxe1+,Qxe1,Bxg2,Kxg2,Nc6,Ne5,Nxe5,Bxe5,Re8,Qe2,Qe6,Re1,Nd7,f4,Nxe5,Qxe5', 'Qc6+,Kf2,Rxe5', 'https://lichess.org/training/6d44U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6d8SG', 'Rapid', 'MansurBokayv', 1923, 'Dani-B', 1954, 'd4,d5,c4,c6,e3,Nf6,h3,Bf5,Nc3,e6,Nf3,Bd6,a3,O-O,c5,Bc7,Be2,Nbd7,O-O,Qe7,Nh4,Be4,Nf3,e5,Re1,Rfe8,Bd2,Rad8,Rc1,exd4,exd4,Qe6,b4,h6,b5,Qf5,Qb3,Bd3,Bxd3,Qxd3,a4,Ne4,Re3', 'Nxd2,Rxd3,Nxb3', 'https://lichess.org/training/6d8SG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6DaKV', 'Rapid', 'abdohalabi1909', 1622, 'ChaoticBishop', 1704, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Qd2,exd4,Qxd4,Nc6,Qd2,Be7,O-O-O,O-O,Bc4,b5,Bb3,Be6,h3,Bxb3,axb3,b4,Nd5,Nxe4,Qe2,Bg5,f4,Ng3,Qg4,Nxh1,fxg5,Qa5,Nf6+,Kh8,Nxh7,Qe5,Qh5,Qxe3+,Kb1,Kg8,Rxd6,Qe4,g6,Ng3', 'Nf6+,gxf6,Qh7#', 'https://lichess.org/training/6DaKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6DALA', 'Rapid', 'Iwan1951', 1655, 'pietsnot', 1671, 'e4,e6,Nf3,d5,exd5,exd5,h3,c5,d3,Nf6,Be2,Bd6,O-O,h6,a3,O-O,Nc3,Nc6,Nh2,Qc7,Ng4,Nxg4,Bxg4,f5,Bf3,d4,Nd5,Qd7,c3,g5,c4,g4,hxg4,fxg4,Be4,h5,Qd2,Qg7,Qh6,Qxh6,Bxh6,Rf7,Bg6,Rd7,Bxh5,Rh7,Nf6+,Kh8,Nxh7,Kxh7,Bd2,Bf5,Rfe1,Rf8,f3,gxf3,Bxf3,Ne5,Be4,Bxe4,dxe4,Nxc4,Bc1,Bg3,Rf1', 'Bh2+,Kxh2,Rxf1', 'https://lichess.org/training/6DALA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6dElZ', 'Rapid', 'lio69', 1616, 'Trigo10', 1697, 'e4,e5,Nf3,Nc6,Bb5,Bc5,a3,d6,h3,Bd7,Ba4,Nf6,d3,Nd4,Nxd4,Bxd4,c3,Bb6,Bb3,Qe7,Nd2,Be6,Nf3,Nh5,Nxe5,Qf6,Qxh5', 'Qxf2+,Kd1,Bxb3#', 'https://lichess.org/training/6dElZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Dgcg', 'Rapid', 'KosolapovAnton', 2146, 'tadeocarlosupc', 2139, 'c4,e5,Nc3,Nf6,g3,Nc6,Bg2,g6,e3,Bg7,Nge2,O-O,O-O,Ne7,d4,exd4,exd4,c6,Bf4,d5,cxd5,cxd5,Qb3,a5,Rfd1,Nh5,Nxd5,Nxd5,Bxd5,Be6,Bxe6,fxe6,Qxe6+,Kh8,Be5,Ra6,Qg4,Nf6,Qh3,Ne4,Nf4,Qb6,Bxg7+,Kxg7,Rac1,Qxb2,Rc7+,Rf7,Rxf7+,Kxf7,Qxh7+,Kf8,Rf1,Qxd4,Nxg6+,Rxg6,Qxg6,Nd2,Qf5+,Ke7,Re1+,Kd8,Qf8+,Kc7,Rc1+,Kb6,Qh6+,Kb5,Qg5+,Ka6,Qe3,Qd5,Qe2+,Ka7,Rc3,Qxa2,Qe3+,Ka6,Qd3+,Ka7,Qd4+,Ka6,Qf6+,Ka7,Qd4+,Ka6,Rd3', 'Qb1+,Kg2,Qf1#', 'https://lichess.org/training/6Dgcg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6dgDC', 'Rapid', 'nodibay', 1976, 'CofiTalj', 2046, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Nxe4,Qxd4,Nf6,O-O,Be7,Re1,O-O,Bd3,d5,Ng5,h6,Nf3,Nc6,Qh4,Re8,Bxh6,Ng4,Bg5,Bxg5', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/6dgDC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6DLu0', 'Rapid', 'OrlandoHernandez', 2119, 'SerhijBybka1', 2108, 'e4,e5,Nf3,d6,Bc4,Be7,d3,Nf6,O-O,O-O,Be3,c6,a3,b5,Ba2,Be6,Bxe6,fxe6,c3,Ne8,Qb3,Qd7,Nbd2,a5,a4,b4,cxb4,axb4,Nc4,Qb7,Ncxe5,dxe5,Qxe6+,Kh8,Nxe5,Bf6,f4,Ra6,Rf3,c5', 'Ng6+,hxg6,Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/6DLu0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6dmBL', 'Classical', 'benvoilakoi', 1688, 'Kamalbb10', 1679, 'e4,d6,d4,Nf6,Nc3,Nbd7,e5,dxe5,dxe5,Nxe5,Qxd8+,Kxd8,Bf4,Ned7,Rd1,e6,Nf3,Bb4,Bb5,c6,Bc4,Ne4,Bd2,Nxd2,Rxd2,b5,Bb3,Bxc3,bxc3,Bb7', 'Ne5,Bc8,Nxf7+', 'https://lichess.org/training/6dmBL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6DnXO', 'Rapid', 'Vadim_Rys', 2152, 'dzeki7', 1999, 'Nf3,d5,c4,dxc4,e3,g6,Bxc4,Bg7,O-O,Nf6,d4,e6,Nc3,O-O,b4,Bd7,a4,a6,Ba3,Re8,Ne5,Nc6,Nxd7,Qxd7,b5,axb5,Bxb5,Nd5,Qb3,Nxc3,Qxc3,e5,Bxc6,bxc6,Bc5,exd4,Bxd4,Bxd4,exd4,Qd5,Rfc1,Re4,Qxc6', 'Re1+,Rxe1,Qxc6', 'https://lichess.org/training/6DnXO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6dQ30', 'Blitz', 'RedbishopXY', 1670, 'goldietoon', 1705, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nf3,Nc6,Bc4,Be7,Qd2,b5,Bb3,O-O,a4,Bb7,O-O,b4,Nd5,Nxd5,Bxd5,Na5,c4,Bxd5,cxd5,Rb8,Qd3,Nc4,b3,Nxe3,Qxe3,f5,Rac1,fxe4,Qxe4,Rf4,Qd3,Rc8,Qxa6,Rxc1,Rxc1,Rf8,Nd2,Qd7,Ne4,Qf5,Nxd6,Qxf2+,Kh1,Bxd6,h3,Bb8,Qe6+,Kh8,d6,e4,d7,e3,Qe8,e2,d8=Q', 'Qf1+,Rxf1,exf1=Q#', 'https://lichess.org/training/6dQ30');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6dsJ2', 'Blitz', 'CM chika3000', 2494, 'enriann10', 2482, 'Nf3,d5,g3,Nf6,Bg2,c6,O-O,Bf5,b3,e6,Bb2,Nbd7,c4,Bc5,d4,Be7,Ne5,O-O,Nd2,a5,a3,h6,Rc1,Qb6,Re1,Rfd8,e3,Rac8,c5,Qc7,Nxd7,Nxd7,b4,axb4,axb4,e5,e4,dxe4,Nxe4,Bxe4,Rxe4,Bf6,d5,cxd5,Qxd5,Bg5,Rce1,Nf6,Qxe5,Nxe4', 'Qxg7#', 'https://lichess.org/training/6dsJ2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Duqg', 'Blitz', 'tioli', 1510, 'Companaro', 1503, 'e4,c5,Nc3,Nc6,d3,e6,g3,Nf6,Bg2,d5,exd5,exd5,Bg5,Be7,Nge2,d4,Bxf6,Bxf6,Ne4,O-O,Nxc5,b6,Ne4,Bb7,O-O,Rc8,Nxf6+,Qxf6,Nf4,Rfe8,Re1,Rxe1+,Qxe1,Nb4,Qxb4,Bxg2,Nxg2,Rxc2,Re1', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/6Duqg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6dY8d', 'Classical', 'Chessdankos28', 2075, 'Prabalpratap', 2048, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nf6,Bxc6,dxc6,Nxe5,O-O,d3,Bd4,Nf3,Bg4,c3,Bb6,Bg5,h6,Bh4,Qe7,e5,Bxf3,exf6,Bxd1', 'fxe7,Rfe8,Rxd1', 'https://lichess.org/training/6dY8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6e5eT', 'Rapid', 'Knights_Of_Hell', 2036, 'SuperDodgy', 2173, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Be7,Bxc6+,Nxc6,Qxc6+,Bd7,Qf3,O-O,O-O,h6,Ne4,Nd5,Nbc3,Nb4,d3,Nxc2,Rb1,f5,Nc5,e4,Qd1,Bxc5,Qxc2,Bc6,b4,Bd4,b5,exd3', 'Qb3+,Kh7,bxc6', 'https://lichess.org/training/6e5eT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6e78c', 'Rapid', 'Princeshady', 1741, 'BraaMostafa', 1762, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Bc4,d6,c3,Nxf3+,Qxf3,Nf6,d4,Be7,O-O,Bg4,Qg3,h5,f3,h4,Qf2,Be6,d5,Bd7,Bg5,c6,Nd2,h3,g3,cxd5,exd5,Bf5,Ne4,Nxe4,fxe4,Bg6,Bb5+,Kf8,Bxe7+,Kxe7,Qe3,f6,Rf2,Rf8,c4,a6,Ba4,Rc8,Rc1,Qa5,Bb3,Rc5,g4,Qc7,Qxh3,Bxe4,g5,f5,g6,b5,Bc2', 'Rxc4,Bxe4,Rxc1+', 'https://lichess.org/training/6e78c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6e7ik', 'Rapid', 'nekiy2', 1839, 'Widgit33', 1775, 'b4,d5,Bb2,a6,e3,Nf6,h3,Nc6,a3,e5,c4,d4,exd4,Nxd4,Nf3,c5,bxc5,Bxc5,Nxe5,Qe7,f4,Bf5,Bxd4,Bxd4,Ra2,Bxe5,fxe5,Qxe5+,Be2,Qg3+,Kf1,Ne4,Qe1,Qd6,Nc3,Nxd2+,Rxd2,Qf4+,Bf3+,Be6,Qf2,O-O,g3,Qxc4+,Kg2,Qxc3,Rhd1,Bb3,Rd3,Qc2,R1d2,Qc4', 'Bd5,Qxd5+,Rxd5,Bxd5+,Rxd5', 'https://lichess.org/training/6e7ik');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6E8ng', 'Rapid', 'Arefkhm', 2128, 'aryamath', 2101, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,Bg5,Nbd7,e3,Bd6,h3,Qa5,Qd2,O-O,Bd3,dxc4,Bxc4,Ne4', 'Nxe4,Bb4,Nc3', 'https://lichess.org/training/6E8ng');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6E8Tv', 'Blitz', 'Mirmirri', 2338, 'CM arvids_andrejevs', 2398, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Be7,Qe2,O-O,c3,d6,h3,h6,d4,Re8,dxe5,Nxe5,Nxe5,dxe5,Be3,Be6,Rd1', 'Bxc4,Rxd8,Bxe2,Rxa8,Rxa8', 'https://lichess.org/training/6E8Tv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6each', 'Rapid', 'hkhattab', 1965, 'Robotin', 2111, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,Be2,e6,O-O,Nf6,h3,Bf5,d3,c6,Nh4,Bd6,Nxf5,Qxf5,Bg4,Nxg4,Qxg4,Qxg4,hxg4,h6,f4,Nd7,Ne4,Bc7,d4,O-O,f5,exf5,gxf5,f6,Bf4,Bxf4,Rxf4,Rae8,Nd6,Rb8,Re1,Nb6,c4,Rfd8,c5,Nd5,Rg4,Rd7,Re6,Kh7,a3,a5,Nc4,a4,Rge4,Rbd8,g4,Nc7,Nb6,Rxd4,Rxd4,Rxd4,Re7,Rxg4+,Kh2,Nd5,Rxb7,Ne3,Nd7,Nxf5', 'Nxf6+,Kg6,Nxg4', 'https://lichess.org/training/6each');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6EAcU', 'Classical', 'MicknKeith', 1774, 'fuqoff', 1691, 'd4,d5,Nc3,Nf6,Nf3,Bg4,Bf4,e6,Nb5,Na6,h3,Bxf3,exf3,c5,Bg5,h6,Bxf6,Qxf6,Be2,cxd4,Nxd4,Bc5,Bb5+,Ke7,c3,Nb4,Bd3,Bxd4,cxb4,Qe5+,Kf1,Bxb2,Rb1,Bd4,b5,g5,Qa4,f5,Qb4+,Kf6,Re1,Qf4', 'g3,Qc7,Qxd4+', 'https://lichess.org/training/6EAcU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6eDeg', 'Classical', 'sasc', 1874, 'H99O', 2107, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,Bb4,Bg5,O-O,Rc1,b6,e3,Bb7,d5,exd5,cxd5,h6,Bxf6,Qxf6,Bc4,Kh8,O-O,Na6,a3,Bxc3,Rxc3,Nc5,Ba2,a5,Qc2,a4,Nd4,c6,dxc6,dxc6,f3,Rad8,b4,axb3,Bxb3,Rd6,Ba2,f4,Ne2,Rfd8,Bb1,g6,Nxf4,Kg7,Rc4,Ba6,Rc1,Bxc4,Qxc4,Rd1+,Kf2,R8d2+,Ne2,b5,Qxc5', 'Qh4+,g3,Qxh2#', 'https://lichess.org/training/6eDeg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6efma', 'Rapid', 'BaSaest', 1666, 'olivermessiaen', 1730, 'd4,h6,Bf4,b6,Nc3,Bb7,e4,d6,Bd3,Nd7,Nf3,g5,Bg3,e6,Qe2,Bg7,Ba6,Bxa6,Qxa6,h5,h3,Ngf6,Nxg5,h4,Bf4,e5,dxe5,dxe5,Be3,Bh6,O-O-O,Rg8,f4,exf4,Bxf4,Bxg5,Bxg5,Rxg5,Rd2,Qe7,Rhd1,Nc5,Qb5+,Kf8,Qc6,Nfxe4,Qxa8+,Kg7,Nxe4,Nxe4,Re2,Re5,Rde1,Qg5+,Kd1', 'Rd5+,Qxd5,Qxd5+', 'https://lichess.org/training/6efma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6EIEQ', 'Rapid', 'TOOK_NAGG', 1918, 'YouriHasek', 2009, 'e4,c5,Nf3,Nc6,b3,d6,Bb2,e5,Nc3,Nf6,Bb5,a6,Bxc6+,bxc6,d3,Be7,O-O,O-O,Ne2,Bg4,Nd2,Qc7,f3,Be6,f4,Ng4,Rf3,f5,fxe5,Nxe5,Rf1,Bf6,Nf4,Bd7,Rb1,fxe4,Nxe4,Rae8,Nxf6+,gxf6,d4,cxd4,Bxd4,c5,Nd5,Qd8,Bb2,Bc6,Nf4,Rf7,Nh5,Bd7,Qd5,Be6,Qd2,Ref8,Rbe1,Qa8,Nf4,Bd7,Qxd6,Qc6,Qxc6,Bxc6,Nd3,Rg7,Rf2,Re8,Bxe5,fxe5,g3,e4,Nxc5,e3,Rfe2,Rge7,h4,Bf3,Rh2,e2,Nd3,Bg4,Nf4,Re3,c4,Rxg3+,Kf2', 'Rf3+,Kg1,Rxf4', 'https://lichess.org/training/6EIEQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6eIGA', 'Classical', 'Manuel110', 1672, 'LKSLODZ1908', 1661, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,d3,Bd6,Bg5,O-O,O-O,h6,Bxf6,Qxf6,h3,c5,Na3,b6,c4,Bb7,Nb5,a6,Nxd6,cxd6,Rb1,a5,a4,Bc6,b3,Rfd8,g3,Bd7,Kg2,Qe6,g4,f6,Nh4,h5,Nf5,hxg4', 'Qxg4,Qf7,Nh6+,Kf8,Nxf7,Bxg4,Nxd8', 'https://lichess.org/training/6eIGA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6EIvG', 'Classical', 'SupremeKai99', 1734, 'Misho810', 1684, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,c6,d4,exd4,Nxd4,Qe7,f3,d5,Bd3,c5,Bb5+,Bd7,Nf5,Qe5,Bxd7+,Nbxd7,Nxd5,g6,Bf4,Qxb2,Nc7+,Kd8,Nxa8,gxf5,Nc7,Nh5,Bd6,Bxd6,Qxd6,Qxa1+,Ke2,Qxh1,Nd5,Qxg2+,Ke3,f4+,Kd3,Qxf3+,Kd2,Qf2+,Kd3,Qd4+,Ke2,Qxe4+,Kd2,Qd4+,Kc1,f3', 'Qc7+,Ke8,Qc8#', 'https://lichess.org/training/6EIvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6EKLd', 'Rapid', 'MusicOn', 1673, 'von_neuman', 1750, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,a3,Nc6,Nxc6,bxc6,Nc3,e5,h3,Nf6,Bg5,O-O,Bc4,Rb8,b3,Qc7,Qd2,h6,Bxh6,Bxh6,Qxh6,d5,exd5,cxd5,Nxd5,Nxd5,Bxd5', 'Qc3+,Qd2,Qxa1+', 'https://lichess.org/training/6EKLd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6EKsr', 'Rapid', 'Harvard77', 1735, 'somperson', 1743, 'e4,e5,Nf3,Nf6,Nc3,d6,d4,exd4,Nxd4,Be7,Bd3,O-O,Nf5,Bxf5,exf5,Re8,O-O,Nc6,a3,Nd4,Be3,c5,b3,Qc8,Ne4,Nxf5,Nxf6+,Bxf6,Rb1,Nxe3,fxe3,Rxe3,Qh5,h6,Rxf6,gxf6,Qxh6,Rxd3,cxd3,Qf5,Rf1,Qg6,Qf4,Qxd3,Qxf6,Qd4+,Kh1,Qxf6,Rxf6,Rd8,Rf1,d5,Kg1,d4,Kf2,Kg7,Ke2,Kg6,Kd3,f5,Rc1,b6,b4,Rc8,bxc5,bxc5,Re1,Rb8,Re6+,Kg5,Ra6,Rb7,Ra5,Rc7,Ra6,Kf4,Rg6,Re7,h4,Re3+,Kc4,Rxa3,h5,Ke3', 'Rg3+,Kf4,Rxa3', 'https://lichess.org/training/6EKsr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6elqb', 'Rapid', 'skygerald', 1897, 'aboelhamail', 1792, 'e4,c5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,g6,Re1,Bg7,e5,e6,b3,Ne7,Bb2,O-O,c3,Qc7,d4,cxd4,cxd4,d6,Nbd2,Bb7,Nc4,d5,Nd6,c5,Rc1,Bc6,Rxc5,Nc8,Qc1,Na7,Qf4,Rfd8,Ng5,Bf8,Ngxf7,Bxd6,Nxd8,Bxc5,Nxe6,Qa5,Ra1,Bb4,Qf6,Bf8,Ng5,Be8,Qe6+,Kh8,Nf7+,Bxf7,Qxf7,Qd2,Qxd5,Qxb2,Rf1,Rc8,f4,Rc1,Qf7,Rxf1+,Kxf1,Qa1+,Kf2,Qxd4+,Kg3,Qc5,Qf6+,Bg7,Qd8+,Qf8,Qd7,Nc8,e6,Ne7,h3,Nf5+,Kh2,h6,g3,Qe7,Qc8+,Kh7,Qxa6,Nd4,f5,Nxf5,a4,Qc7,Qd3,Be5,Kg2,Nxg3,Qd7+,Qxd7,exd7,Bc7,b4,Nf5,a5,Nd6,a6,Nb5,Kf3,Kg7,Ke4,Kf7,Kd5,Ke7', 'Kc6,Bb8,Kxb5,Kxd7,Kb6', 'https://lichess.org/training/6elqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ELRB', 'Blitz', 'opponent1968', 1758, 'Prottasha', 1770, 'd4,d5,c4,Nf6,Nc3,c6,Bg5,Bf5,Nf3,e6,e3,Be7,cxd5,exd5,Bd3,Bxd3,Qxd3,O-O,h4,h6,O-O-O,Ng4,Kb1,Nxf2,Qc2,Nxd1,Nxd1,hxg5,hxg5,g6,Ne5,Kg7,g3,Rh8,Rf1,Rf8,Nf2,Bxg5,Nfg4,Nd7', 'Rxf7+,Rxf7,Qxg6+,Kh8,Nxf7#', 'https://lichess.org/training/6ELRB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6EMvt', 'Classical', 'rkvv', 1620, 'pawn9i', 1716, 'd4,d5,c4,e6,Nf3,Nf6,e3,Nc6,cxd5,exd5,Bb5,Bd7,O-O,Be7,Nc3,O-O,b3,a6,Bd3,Nb4,a4,Nxd3,Qxd3,c6,Ba3,Bxa3,Rxa3,Re8,Re1,h6,e4,Qe7,e5,Qxa3,exf6,gxf6,Rxe8+,Rxe8,h3,Qf8,Ne2,Qg7,Nf4,Qh7,Qd2,Qe4,Nh5,Qg6,Nf4,Qh7,Nh5,Qf5', 'Qxh6,Qxh5,Qxh5', 'https://lichess.org/training/6EMvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6EN9W', 'Blitz', 'EfremovAA', 2063, 'WGM GoValya', 2238, 'd4,g6,Nf3,Bg7,h4,c5,h5,cxd4,h6,Nxh6,Bxh6,Bxh6,Rxh6,Nc6,Nxd4,Qb6,Nb3,a5,a4,Ne5,Qd4,Qxd4,Nxd4,d6,Rh1,O-O,Nc3,Bd7,e4,Rac8,Bb5,Bxb5,axb5,b6,f4,Nc4,O-O-O,Ne3,Rd2,f5,Nc6,Rce8,Rh3,Nc4,Rd1,fxe4,Nxe4,Rxf4,Ng5,h5,Ne6,Rf7,Rdh1,Rf6,Ncd4,Kf7,g4,Rxe6,Nxe6,Kxe6,gxh5,gxh5,Rxh5,Ne5,Rd1,Rc8,Rh6+,Kd7,Rh5,Rc5,b3,Rxb5,c4', 'Nd3+,Rxd3,Rxh5', 'https://lichess.org/training/6EN9W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Enwv', 'Classical', 'Katris', 1726, 'URSUS_Sme', 1797, 'd4,d5,c4,dxc4,e3,b5,a4,c6,axb5,cxb5,b3,e6,bxc4,bxc4,Bxc4,Bd7,Ne2,Nf6,O-O,Bc6,Nbc3,Bd6,h3,O-O,Nb5,Be7,Ba3,a5,Bxe7,Qxe7,Qd2,a4,Nec3,Rc8,Rxa4,Rxa4,Nxa4,Bxg2,Kxg2,Rxc4,Nc5,Na6,Qd3,Rb4,Nxa6,Qb7+,Kg1,Rxb5,Nc5,Qb8,Qa3,g6,Qa6,Rb2,Qc6,Rb6,Qf3,Rb1', 'Qxf6,Rxf1+,Kxf1', 'https://lichess.org/training/6Enwv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6eqFH', 'Rapid', 'veeyesar', 2078, 'ac31', 2098, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,g6,Be3,Bg7,f3,Nf6,Qd2,d5,Nxc6,bxc6,e5,Nd7,f4,e6,Bd3,O-O,O-O,a5,Na4,Rb8,b3,f6,Nc5,Nb6,Rae1,fxe5,fxe5,Bxe5,Rxf8+,Qxf8,Qxa5,Qg7,Bd2,Bc7,Nxe6,Bxe6,Rxe6,Nc4,Qc3,Nxd2', 'Qxg7+,Kxg7,Re7+,Kf6,Rxc7', 'https://lichess.org/training/6eqFH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6eRsz', 'Rapid', 'Yorvi7', 1670, 'ChessImpostor', 2125, 'b3,Nf6,Nc3,g6,Bb2,Bg7,Nf3,O-O,g3,d6,Bg2,c5,O-O,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,Qd1,d5,e4,Nxe4,Nxe4,Bxb2,Rb1,Bg7,Nc5,b6,Nd3,Bb7,c4,Rb8,cxd5,Bxd5,Nf4,Bxg2,Kxg2,Qxd1,Rfxd1,Rfd8,Rd3,Rxd3,Nxd3,Rc8,Nb4,a5,Na6,Be5,Rd1,Ra8,Re1,Rxa6,Rxe5,a4,b4,a3,Re3,Ra4,b5,Ra5,Rb3,Kf8,Kf3,Ke7,Ke4,Kd6,Kd4,Ra4+,Kc3,Kc5,Kd3,f5,f4,h5,h4,Rb4,Rxb4,Kxb4,Kc2,Kxb5,Kb3,Kc5,Kxa3,Kd4,Kb4,e5,fxe5,Kxe5,a4,Kd6,Kb5,Kc7,Kc4,Kc6,Kd4,Kd6,Kc4,Kc6,Kd4,Kb7,Ke5,Ka6,Kf6,Ka5,Kxg6,Kxa4,Kxf5', 'b5,g4,b4,g5,b3', 'https://lichess.org/training/6eRsz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6esRt', 'Rapid', 'ryuga31', 1656, 'AdrianoHe', 1693, 'd4,d5,c4,e6,cxd5,exd5,Bf4,Nc6,e3,Nf6,Bd3,Bd6,Bxd6,Qxd6,Nf3,Bg4,Nbd2,O-O-O,Qa4,a6,Ne5,Nxe5,dxe5,Qxe5,Qc2,Kb8,Qb3,Kc8,Rc1,h5,Qc2,c6,b4,h4,b5,axb5,Bxb5,Bd7,a4,Kb8,Nf3,Qe4,Bd3,Qe7,a5,Qb4+,Ke2,Qxa5,Ra1,Qc7,Rhb1,Ne4,Ba6,b6,Rb2,b5', 'Bxb5,cxb5,Ra8+,Kxa8,Qxc7', 'https://lichess.org/training/6esRt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Et8X', 'Classical', 'suffarstar7', 1732, 'jagannarayan', 1710, 'e4,e5,Bc4,Nc6,Nf3,h6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Nd5,Bxd5,cxd5,Qxd5,c6,Qf3,Qa5+,Qc3', 'Bb4,Bd2,Bxc3', 'https://lichess.org/training/6Et8X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6EuzQ', 'Rapid', 'hvalerio', 1758, 'ilbars8', 1809, 'd4,d5,Bg5,Nf6,Bxf6,exf6,Nf3,Bf5,c4,Be7,Nc3,Bb4,Qc1,O-O,a3,Bxc3+,Qxc3,dxc4,Qxc4,Nc6,Rc1,Be6,Qd3,a6,e4,Bg4,h3,Bh5,Be2,Re8,O-O,Bg6,Qb3,Na5,Qc3,Nc6,e5,fxe5,dxe5,Rc8,Bc4,Qe7,Qb3,Na5,Qa4,Nc6,e6,fxe6,Qb3,Na5,Qe3,Nxc4,Rxc4,Red8,Ne5,Qf6,Re1,c6,Qb6,Rb8,Rc3,Bf5,Rf3,Qe7,Qb3,Kh8,g4,Bg6,Nxg6+,hxg6,Rxe6,Qg5,Qc2,Kh7,h4', 'Qxg4+,Rg3,Qxe6', 'https://lichess.org/training/6EuzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6eZSv', 'Rapid', 'medotoni46', 1832, 'gasmibillal', 1824, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Bd3,Bc5,Qc4,d6,Bg5,Be6,Nd5,Bxd5,exd5,Qe7+,Be3,Bxe3', 'Qc6+,Kf8,Qxa8+', 'https://lichess.org/training/6eZSv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6f83F', 'Rapid', 'Lolbolo', 1757, 'Huskygaze3', 2045, 'e4,c6,Nf3,d5,e5,c5,Be2,Nc6,O-O,e6,d3,Nge7,c4,Ng6,cxd5,exd5,d4,Be6,dxc5,Bxc5,Nc3,Ngxe5,Bb5,O-O,Re1,Nxf3+,Qxf3,Nd4,Qd3,Nxb5,Qxb5,Qb6,Be3,Bxe3,Rxe3,Qxb5,Nxb5,Rfc8,Rae1,g6,a3,a6,Nd4,Re8,b4,Rac8,g3,Rc7,Kg2,Rce7,Rc1,Kf8,Rd3,Rc8', 'Nxe6+,Rxe6,Rxc8+', 'https://lichess.org/training/6f83F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6FaPT', 'Rapid', 'burj_khalifa', 1900, 'Mecameca', 1882, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,a6,Nc3,e6,O-O,Nbd7,f4,Qc7,f5,Ne5,fxe6,fxe6,Rxf6,gxf6,Qh5+,Ng6,e5,dxe5', 'Bxg6+,hxg6,Qxh8,Qg7,Qxg7', 'https://lichess.org/training/6FaPT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6fBIr', 'Classical', 'Joshabelle', 1814, 'boringchessgame', 2017, 'e4,c5,Nf3,e6,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,Qc7,O-O,Nf6,Qe2,Ng4,Nb5,Qb8,e5,Ngxe5,Bf4,a6,Nxe5,axb5,Bxb5,Bd6,Nxc6,bxc6,Bxd6,Qxd6,Rfd1,Qe7,Bd3,h6,a4,O-O,a5,c5', 'Qe4,g6,Qxa8', 'https://lichess.org/training/6fBIr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6FCep', 'Rapid', 'Garrotxa', 1770, 'Tolian161971', 1773, 'e4,c6,f4,d5,e5,h6,Nf3,Bg4,c3,e6,d4,c5,Be2,Nc6,O-O,Qb6,dxc5,Bxc5+,Kh1,Nge7,Qc2,Nf5,b4,Bxb4,cxb4,Nxb4,Qb3,Bxf3,Bxf3,Nd4,Qa4+,Nbc6,Ba3,Rc8,Nd2,Qc7,Rac1,b5,Qa6,b4,Bb2,Nxf3,Nxf3,O-O,Nd4,Nb8,Rxc7,Nxa6,Rxa7,Nc5,Nb5,Ne4,Nc7,Rfd8,Na6,Rc2,Nxb4,Rxb2,Nc6,Rc8', 'Ne7+,Kh7,Nxc8,Nf2+,Kg1', 'https://lichess.org/training/6FCep');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6FCop', 'Rapid', 'derzkiy222', 1694, 'SKANDAMJ', 1696, 'c4,e5,Nc3,Nc6,Nf3,Nf6,e4,Bc5,g3,Ng4,d4,Bb4,Nxe5,Ngxe5,dxe5,Nxe5,Bg2,d6,O-O,Bc5,Be3,Bxe3,fxe3,Nxc4', 'Qa4+,c6,Qxc4', 'https://lichess.org/training/6FCop');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6FEkl', 'Rapid', 'Alexandr-Shatskiy', 2007, 'Dhanlala', 2023, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Qf6,e5,Qg6,Bd3,Qxg2,Be4,Qg5,Nc3,Ne7,Nb5,O-O,Nxc7,Rb8,h4,Qh5,f3,Nc6,Qd6,Nxe5,O-O-O,Nxf3,Bxf3,Qxf3,Rhe1,Qc6', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/6FEkl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6FfBZ', 'Rapid', 'Amit_001', 1859, 'Neuki_profesor', 1966, 'e4,e5,Nc3,Nc6,Bc4,Nf6,d3,Bb4,Ne2,O-O,O-O,h6,a3,Be7,f4,a6,f5,b5,Ba2,Bc5+,Kh1,Nd4,Nxd4,Bxd4,Ne2,Bb6,Qe1,d5,Qg3,Qd6,Bxh6', 'Nh5,Qh4,Qxh6', 'https://lichess.org/training/6FfBZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6fGPH', 'Blitz', 'marty001', 1706, 'Rajat478', 1710, 'c4,e6,Nc3,Nf6,Nf3,c6,e4,d5,exd5,cxd5,cxd5,Nxd5,d4,Nc6,g3,Be7,Bg2,O-O,O-O,a6,Re1,Bf6,Nxd5,exd5,Ne5,Be6,Bf4,Re8,Rc1,Qb6,Nxc6,bxc6,Be5,Bxe5,dxe5,Qxb2,Rxc6,Red8,a4,d4,Rc2,Qxc2,Qxc2,d3,Qd2,Rac8,Rc1,Rxc1+,Qxc1,d2,Qd1,Bb3,Qxb3,d1=Q+,Qxd1,Rxd1+,Bf1,a5,Kg2,Kf8,Bb5,Ke7,Kf3,h5,Kf4,Rd4+,Ke3,Rb4,f4,f6,h3,fxe5,f5,Kf6,g4,hxg4,hxg4,Rxg4,Kf3,Kxf5', 'Bd7+,Kg5,Bxg4,e4+,Kg3', 'https://lichess.org/training/6fGPH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6fH80', 'Rapid', 'hitmanif', 2127, 'warxcc', 2131, 'e4,d5,Nc3,d4,Nce2,c5,Ng3,Nc6,Nf3,g6,Bc4,Bg7,d3,b5,Bd5,Bb7,a4,bxa4,Rxa4,e6,Bb3,Nge7,h4,Ne5,Ng5,Bc6,Ra1,c4,dxc4,d3,O-O,h6,Nf3,Nxf3+,Qxf3', 'd2,Bxd2,Qxd2', 'https://lichess.org/training/6fH80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6fHvd', 'Rapid', 'Hijosmios', 2186, 'AndresitoGameplays', 1701, 'd4,Nf6,Bg5,e6,e4,h6,Bxf6,Qxf6,Nc3,Bb4,Qd2,d6,a3,Ba5,f4,g5,fxg5,Qxg5,Qd3,Nd7,Nf3,Qf6,Be2,e5,d5,Nc5', 'Qb5+,Bd7,Qxa5,b6,Qb4', 'https://lichess.org/training/6fHvd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6fiKX', 'Blitz', 'Dimon751', 1802, 'DaniilHarms', 1810, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,c5,c3,Bd6,Bg3,Nc6,Bd3,O-O,Qc2,b6,Ne5,h6,Nxc6,Qc7,Ne5,Bb7,Nd2,Rac8,Ndf3,cxd4,exd4,Ne4,Bf4,a6,a3,b5,O-O,f6,Ng6,Bxf4,Nxf8,Rxf8,g3,Bd6,Nh4,f5,f3,Ng5,f4,Ne4,Ng6,Rf6,Ne5,Bxe5,dxe5,Rg6,Kg2,d4,Kh3,Nf6,cxd4,Qxc2,Bxc2,Ng4,Rae1,h5,Bb3,h4,gxh4,Nh6,h5', 'Bg2+,Kh4,Rg4#', 'https://lichess.org/training/6fiKX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Fjql', 'Classical', 'Vladik0016000', 1988, 'Nasapav', 1797, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Bg4,c3,h6,h3,Bh5,d3,Be7,Be3,Nf6,Nbd2,b5,Bb3,Bg6,Qe2,Rb8,a3,a5,a4,b4,c4,O-O,Rad1,Bh5,Rfe1,Nd4,Bxd4,exd4,g4,Bxg4,hxg4,Nxg4,Nh2,Ne5,Ndf3,Bf6,Nxd4,c5,Nf5,Bh4,Nf3,Nxf3+,Qxf3,Qg5+,Kf1,Qd8,Nxh4,Qxh4,Ke2,Kh8,Rh1,Qf6,Qxf6,gxf6,Rxh6+,Kg7,Rh5,Rg8,Rg1+,Kf8,Rxg8+,Kxg8,Bd1,Re8,b3,Kg7,Ke3,Kg6,Rf5,Rh8,Rd5,Rh3+,f3,Rh1,Be2,Rb1,Rxd6,Rxb3,e5,Rc3,Rxf6+,Kg7,Rb6,Kf8,Kd2,Ra3,Rb5,Ra2+,Ke3,Rxa4,Rxc5,b3,Bd1,Ra3,Rb5,a4,d4,b2+,Ke4,Ra2,f4,a3,f5,Ra1,Bc2,Re1+,Kd3', 'a2,Rxb2,a1=Q', 'https://lichess.org/training/6Fjql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6FmlP', 'Classical', 'mvb', 1879, 'morefire', 1780, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bb4+,c3,dxc3,bxc3,Ba5,O-O,Nf6,e5,Ng4,h3,Ngxe5,Nxe5,Nxe5,Re1,d6,f4,Bb6+,Kh1,Bf2,Re2,Qh4,fxe5,Bxh3,exd6+', 'Be6#', 'https://lichess.org/training/6FmlP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6fmvI', 'Rapid', 'BogomilTodorov', 2321, 'LittleGavroche', 2253, 'b4,Nf6,Bb2,g6,e4,d6,c4,Bg7,Qc2,O-O,Nf3,c5,b5,Bg4,Be2,Nbd7,d4,cxd4,Nxd4,Bxe2,Qxe2,Nc5,Nc3,Nh5,Qd2,e5,Nb3,Bh6,Qd1,Nf4,O-O,Qg5,g3,Ncd3,Bc1,Nxc1,Nxc1,Rac8,Qb3,Ne6,N1e2,Bg7,h4,Qd8,Rad1,Qc7,Nd5,Qd7,Rc1,Rc5,Rfd1,Rfc8,Ne3,Qc7,Nd5,Qd7,a4,Nd4,Nxd4,exd4,Kg2,Re8,f3,f5,Re1,fxe4,Rxe4,Rxe4,fxe4,Qe6,Re1,Rc8,Nf4,Qxc4,Qxc4+,Rxc4,a5,Rb4,Rc1,Rxb5,Rc8+,Kf7,Rc7+,Kf8,Rc8+,Ke7', 'Rc7+,Ke8,Rxg7', 'https://lichess.org/training/6fmvI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Fn5T', 'Classical', 'mohammed997', 1823, 'leadhead', 1835, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Ne7,Bg5,Qc7,Qf3,Ng6,O-O-O,Bb4,h4,h6,Bd2,Ne5,Qh5,Nbc6,Nxc6,bxc6,g4', 'g6,Qxe5,Qxe5', 'https://lichess.org/training/6Fn5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Fnx0', 'Rapid', 'davidepancotto', 1754, 'Igor_Sokolov', 2133, 'd4,f5,g3,Nf6,Bg2,e6,Nf3,d5,O-O,c6,b3,Bd6,Ba3,Bxa3,Nxa3,Qe7,Qc1,O-O,c4,Nbd7,Nc2,b6,Nce1,Bb7,Nd3,c5,e3,Rac8,Qa3,Rfe8,Qxa7,Rc7,Qa3,dxc4,bxc4,Bxf3,Bxf3,cxd4,Qxe7,Rxe7,Rfc1,dxe3,fxe3,Re8,Nf4,Kf7,Rab1,Rec8,Be2,Ne4,Rc2,b5,Rxb5,Nd6,Ra5,Nxc4,Rxc4,Rxc4,Bxc4,Rxc4,Ra7,Ke7,Nd3,Kd6', 'Rxd7+,Kxd7,Ne5+,Kd6,Nxc4+', 'https://lichess.org/training/6Fnx0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6fO9q', 'Rapid', 'damacelosa', 1705, 'cajohnm', 1699, 'e4,e5,Nf3,Nc6,Bc4,Be7,Nc3,Nf6,a4,O-O,d3,d6,h3,Be6,Ba2,Bxa2,Rxa2,d5,exd5,Nxd5,Nxd5,Qxd5,Ra1,Bf6,O-O,Nd4,Nh2,Rfe8,Ng4,Re6,Nxf6+,Rxf6,c3,Nb3', 'c4,Qd7,Qxb3', 'https://lichess.org/training/6fO9q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6fqhL', 'Rapid', 'krc20', 1735, 'Tirinst', 1747, 'e4,c5,Bc4,Nc6,c3,e6,d4,d5,exd5,exd5,Bb5,c4,Nf3,Bd7,Ne5', 'Nxe5,Bxd7+,Nxd7', 'https://lichess.org/training/6fqhL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6FqP9', 'Classical', 'anishmeyal', 1694, 'leibnz1', 1705, 'd4,f5,e4,e6,exf5,exf5,Qh5+,g6,Qe2+,Be7,Bg5,Kf7,Qc4+,Kg7,Bf4,Nf6,Nc3,c6,O-O-O,d5,Qe2,b6,Be5,Ba6,Qe3,Bxf1,Rxf1,Nd7,Nf3,Nxe5,Nxe5,Ne4,Nxe4,dxe4,f3,c5,fxe4', 'Bg5,Qxg5,Qxg5+', 'https://lichess.org/training/6FqP9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6fxim', 'Rapid', 'A9sus4', 1723, 'genji2008', 1627, 'e4,e6,d4,d5,exd5,exd5,h3,Bd6,a3,Ne7,Nc3,O-O,Be3,Bf5,g4,Be4,Nxe4,dxe4,Bg2,f5,gxf5,Nxf5,Bxe4,Nxe3,fxe3', 'Qh4+,Kd2,Qxe4', 'https://lichess.org/training/6fxim');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6G0wc', 'Rapid', 'Ir_amirmahdi_2005', 1801, 'Astek321', 1803, 'e4,c5,Nf3,Nc6,Nc3,e6,d4,Nge7,d5,exd5,exd5,Nb4,Qe2,g6,d6,Bg7,dxe7,Qxe7,a3,Qxe2+,Kxe2,Nxc2,Rb1,O-O,Kd2,Nd4,Nxd4,cxd4,Ne4,d5,Nd6,b6,Bd3,Bd7,Rd1,Be5,Bb5,Be6,Nb7,Rab8,Bc6,Rfc8,Re1,Bf4+,Kd3,Bf5+,Kxd4,Bxb1', 'Bxf4,Rxc6,Bxb8', 'https://lichess.org/training/6G0wc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6g6QY', 'Blitz', 'desowin', 1702, 'smilefab', 1692, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Nxe4,d5,Bd3,dxe4,Bxe4,Bc5,O-O,Bd7,Re1,O-O,b3,f5,Bxc6,Bxc6,Nxe5,Qd4,Nxc6,Qxf2+,Kh1,bxc6,Bb2,Rf6,d4,Rg6,Rg1,Bd6,Qf3,Qh4,h3,Rg3,Qf1,g5,Re1,g4,Qxf5', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/6g6QY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6G8CD', 'Rapid', 'ifycent', 1604, 'mridumoloy', 1648, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,a4,Bg4,c3,a5,h3,Be6,Bxe6,fxe6,Ng5,Qe7,Qb3,Nd8,Qa2,h6,Nf3,O-O,b4,axb4,cxb4,Bxb4,Qb3,Bc5,Nc3,Kh8,a5,b6,a6,Bd4,Nxd4,exd4,Nb5,Nc6,Qc2,Qd7,Bb2,e5,Rfc1,Rfc8', 'Qxc6,Qxc6,Rxc6', 'https://lichess.org/training/6G8CD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6GbjG', 'Rapid', 'kveta2017', 1968, 'Mpaglamas', 1919, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,O-O,O-O,Bd5,Nxd5,Nxd5,d6,c3,Ne7,Nxe7+,Qxe7,d4,exd4,cxd4,Bb6,Re1,Bg4,Bf4,Rad8,Qd3,f6,Rad1,Rfe8,h3,Bh5,b4,Bg6,Nd2,d5,Qb3,Kh8,exd5,Qxe1+,Rxe1,Rxe1+,Kh2,Rde8,Nf3,R1e4,Be3,Bf7,Qa4,Bxd5,Qd7,Bc6,Qf5,Rd8,b5,Bd5,a4,c6,bxc6,Bxc6,a5,Bc7+,Kh1,Rde8,Qc5,R4e7', 'd5,Bxd5,Qxd5', 'https://lichess.org/training/6GbjG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gbML', 'Blitz', 'IM Tuzibaba', 2488, 'Fleido', 2323, 'e4,c5,Nf3,Nc6,Nc3,e5,Bc4,d6,d3,Be6,Nd2,Qd7,Nf1,Nge7,Ne3,Ng6,h4,Bxc4,dxc4,Nd4,Ncd5,Ne7,c3,Nxd5,Nxd5,Ne6,h5,h6,Be3,Nc7,Rh3,Nxd5,Qxd5,Be7,O-O-O,Rc8,Rg3,Bf6,Qxd6,Qxd6,Rxd6,Ke7,Rd5,b6,Kc2,Rhd8,Rh3,Rxd5,cxd5,Kd6,g3,a5,c4,Rb8,a4,Re8,Kd3,Bd8,Rh1,Ke7,f4,Bc7,Rf1,f6,Bd2,Rg8,Bc3,g6,fxe5,fxe5,g4,gxh5,gxh5,Rg3+,Kc2,Re3,Re1,Rh3,Rg1,Rxh5,Rg7+,Kd8,Bd2,Rh4,Kd3,Bd6,Rh7,Rh3+,Be3,Be7,Rxh6', 'Rxe3+,Kxe3,Bg5+,Kf3,Bxh6', 'https://lichess.org/training/6gbML');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gBXd', 'Rapid', 'rradvin', 1715, 'duck3ds', 1690, 'e4,g6,d4,b6,c4,Bb7,Nc3,d6,f4,Bg7,Nf3,e6,Bd3,Ne7,O-O,Nd7,b4,c5,bxc5,bxc5,Nb5,Qb6,Rb1,Bxd4+,Nfxd4,cxd4,Ba3,Nc5,Nxd4,Qa6,Nb5,O-O,e5,Qc6,Qc2,dxe5,Nd6,Nxd3,Nxb7,Nxf4,Bxe7,Rfe8,Bf6,Rab8,Bxe5,Rxb7,Bxf4,Rxb1,Rxb1,Rc8,Rc1,Kg7,Be5+,f6,Bd4,e5,Be3,Qe6,Rf1,Rxc4,Qb3,Rc6,Qxe6,Rxe6,Bxa7,Ra6,Bc5,Rxa2,h3,f5,Bd6,Kf6,Re1,e4,Kf1,Ke6,Bc7,Ra7,Bb6,Rb7,Bc5,Kd5,Ba3,Rb3,Rd1+,Kc4,Rc1+,Kd3,Be7,e3,Re1,f4,Bg5,Rb2,Bxf4', 'Rf2+,Kg1,Rxf4', 'https://lichess.org/training/6gBXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6GC42', 'Blitz', 'Valera200707', 2315, 'vchess-club', 2259, 'e4,Nc6,Nf3,Nf6,e5,Nd5,d4,d6,Bc4,Nb6,Bb3,d5,O-O,Bg4,Be3,e6,Nbd2,Be7,Qe1,O-O,Rc1,Na5,c4,Naxc4,Bxc4,Nxc4,Nxc4,dxc4,Rxc4,Bxf3,gxf3,Qd5,Qe2,c6,Kh1,Kh8,Rg1,Rg8,Rg3,Rac8,Rc1,c5,Rcg1,cxd4,Qd3,dxe3', 'Qxh7+,Kxh7,Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/6GC42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gCe4', 'Classical', 'muqeet', 1651, 'fernandopj', 1653, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Bf4,Nc6,Nf3,e6,a3,a6,Bd3,Be7,O-O,Bd7,Ne5,Nxd4,b4,Rc8,Ne2,Nxe2+,Qxe2,Ba4,Rac1,Nd7,Nxf7,Kxf7,Qh5+,Kf8,Rfe1,Qe8,Qf3,Rc6,Re3,Bf6,Be5,Nxe5,Rxe5,Kg8,Rh5,Rc3,Re1,Bxc2,Re3,Bxd3,Rxd3,Rc1+,Rd1,Rxd1+,Qxd1,Kf7,f4,Bd4+,Qxd4,Kf8,Re5,Qc6,f5,Qc1+,Kf2,Qc2+,Re2,Qxf5+,Kg1,Ke7', 'Qxg7+,Kd6,Qxh8,Qb1+,Kf2', 'https://lichess.org/training/6gCe4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6GD3C', 'Rapid', 'khumpring', 1853, 'AlekhinesMum', 1925, 'Nc3,d5,Nf3,Nf6,d4,Bf5,Nh4,Bg6,Bf4,Nh5,Nxg6,hxg6,Bg5,c6,e4,dxe4,Qd2,f5,O-O-O,Nd7,Re1,Nhf6,f3,exf3,Re6,fxg2,Qxg2,Kf7,Bc4,Nd5,Nxd5,cxd5,Rxe7+,Bxe7', 'Qxd5+,Kf8,Qf7#', 'https://lichess.org/training/6GD3C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gD4P', 'Rapid', 'Ankaejdersvan', 1761, 'crooz07', 1752, 'e4,e5,Nf3,d6,c4,Nc6,Nc3,Bg4,Be2,Nf6,h3,Bh5,d3,Be7,g4,Bg6,Be3,b6,Qa4,Qd7,O-O,Na5,Qc2,O-O,d4,Nxg4,Qd2,Nxe3,Qxe3,Qxh3,Nh2,exd4,Qxd4,Bf6,Qe3,Qxe3,fxe3,Bxc3,bxc3,Bxe4,Ng4,f6,Kf2,f5,Nh2,f4,exf4,Rxf4+,Bf3,Bd3,Rfe1,Nxc4,Rad1,Bg6,Kg3,Raf8,Bd5+,Kh8,Rd4,Rxd4,cxd4,Na5,Re7,c6,Be6,a6,Ra7,Be4,Rxa6,d5,Rxb6,Re8,Ra6,Nc4,Rxc6,h6,Bf7,Ra8,Ng4,Rxa2,Rc8+,Kh7,Ne5,Ra3+,Kg4,Ne3+,Kf4,Ng2+,Kg4,Ne3+,Kf4,g5+,Kg3,Nf1+,Kf2,Nh2,Bg6+,Kg7,Rc7+,Kf6,Rc6+,Ke7,Bxe4,dxe4,d5,e3+,Kg2,e2,Rc1,Kd6', 'Nc4+,Kxd5,Nxa3', 'https://lichess.org/training/6gD4P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gDTU', 'Rapid', 'robhad', 2300, 'Mahmoud_M_Fathy', 1961, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Nxf3,e6,Bg5,Be7,Bd3,Nc6,Qd2,h6,Be3,Ng4,Bf4,Nb4,O-O,Nxd3,Qxd3,O-O,Nb5,Bd6,Bxd6,cxd6,Qa3,d5,h3,Nf6,Ne5,Bd7,Nd6,Qb6,Rf4,Rad8,Raf1,Bb5,Nxb5,Qxb5,Rxf6,gxf6,Qg3+,Kh7,Rxf6,Qxb2,Rxf7+,Rxf7', 'Qg6+,Kh8,Nxf7#', 'https://lichess.org/training/6gDTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6GDvT', 'Rapid', 'vhagar', 1958, 'sbeeh', 1911, 'c4,g6,d4,Bg7,e4,f6,h4,d6,h5,g5,h6,Bf8,Qh5+,Kd7,Be2,Qe8,Bg4+,Kd8', 'Qxe8+,Kxe8,Bxc8', 'https://lichess.org/training/6GDvT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ggiK', 'Blitz', 'CM Alejandropacheco29', 2389, 'abedinov', 2358, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,Ng4,Bg5,O-O,h3,Ne5,O-O-O,Nbc6,Nb3,Be6,f4,Nc4,Bxc4,Bxc4,e5,dxe5,Qxd8,Rfxd8,fxe5,Bxe5,Rde1,Bxc3,bxc3,f6,Be3,e5,g4,b6,h4,Kg7,h5,g5,h6+,Kg6,Nd2,Bd5,Rh2,Bxa2,Rf1,Be6,Ne4,Rf8,Rhf2,f5,gxf5+,Rxf5,Rxf5,Bxf5,Nxg5,Ne7,Rg1,Kf6,Nf3,Rg8,Bg5+,Ke6,Re1,Ng6', 'Nd4+,Kd7,Nxf5', 'https://lichess.org/training/6ggiK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gHga', 'Rapid', 'Viktor_Getman', 2226, 'averageskill', 2317, 'd4,c5,dxc5,e6,Nf3,Bxc5,g3,Nf6,Bg2,d5,O-O,O-O,Bg5,h6,Bxf6,Qxf6,Nc3,Nc6,a3,a6,e3,Rd8,Ne2,e5,b4,Ba7,Nc3,Be6,b5,Na5,Rb1,Nc4,a4,Rac8,Nd2,Qg6,Nxc4,Rxc4,Nxd5,Bxd5,Bxd5,Rcc8,b6,Bxb6,c4,Ba5,Rxb7,Rxc4,Bxf7+', 'Qxf7,Rxf7,Rxd1', 'https://lichess.org/training/6gHga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Giip', 'Rapid', 'TALEKSANDR', 1783, 'Gen1962', 1758, 'd4,Nf6,Nc3,d5,e3,e6,Bd3,Bb4,Bd2,c5,a3,c4,axb4,cxd3,cxd3,O-O,Nf3,Nc6,Ne2,b6,Ne5,Nxe5,dxe5,Ng4,d4,Qh4,g3,Qh3,Nf4,Qh6,Qxg4,f5,Qh3,Qg5,O-O,a5,bxa5,bxa5,Rxa5,Rxa5,Bxa5,Qe7,Qh5,Qb7,b4,Qc6,Qd1,g5,Nh5,Qb5,Nf6+,Kg7,Qh5,h6,h4,Ba6,hxg5,Qxf1+,Kh2,Qxf2+,Kh3', 'Bf1+,Kh4,Qh2#', 'https://lichess.org/training/6Giip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6GiSZ', 'Classical', 'pawnstar96', 1614, 'albert0750', 1654, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,d3,Bc5,h3,Be6,b3,Qd7,Bb2,Bd6,Nxe5,Bxe5,Bxe5,O-O-O,Bxf6,gxf6,Nc3,Rhg8,g4,h6,Qf3,Qd4,Kd2,c5,Nb5,Qb4+,Nc3,Rd7,a3,Qd4,Nb5,Qe5,Nxa7+,Kb8,Nb5,Rgd8,a4,c4,bxc4,Bxc4,Na3,Qg5+,Qe3', 'Rxd3+,cxd3,Rxd3+,Kc2,Rxe3', 'https://lichess.org/training/6GiSZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6GJFC', 'Blitz', 'WIM cxrjs', 2423, 'FM kchess20', 2375, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nc6,Bb5,Bd6,c4,a6,Ba4,Nf6,c5,Be7,O-O,O-O,Nc3,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd3,Ne6,b4,c6,Bc2,Re8,Bb2,Nf8,a4,a5,bxa5,Qxa5,Rfe1,Bxc5,Ne2,Ne4,Nd4,Qa6,Qf3,Qb6,Bxe4,dxe4,Qc3,Bxd4,Qxd4,Qxd4,Bxd4,f5,a5,Ne6,Bb6,Nf4,Red1,Nd5,Bc5,Red8,Rdb1,Rd7,Rb3,Kf7,Rab1,Ke6,Rxb7,Rxa5,Rxd7,Kxd7,Rb7+,Ke6,Bd4,g6,Rxh7,Nf4,Be3,Ra1+,Kh2,Nd3,Rc7,Ra6,Rg7,Ne5,Bf4,c5,Rc7,Ra2,Bxe5,Kxe5,Rxc5+,Kf6,Rc6+,Kg5,Kg3,Ra3+,f3,exf3,gxf3,f4+,Kf2,Ra2+,Kf1,Ra3,Kf2,Ra2+,Kf1,Ra3,Ke2,Ra2+,Kd3,Ra3+,Ke4,Re3+,Kd4,Rxf3,Rc5+,Kh4,Ke4,Rf1,Rc6,g5,Rh6+,Kg3,Kf5,Re1,Rh5,Kf3,Rxg5,Ke3,Rg4,f3,Rf4', 'f2,Rxf2,Kxf2', 'https://lichess.org/training/6GJFC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gjrT', 'Rapid', 'chess_Leo', 1694, 'yaba', 1676, 'e4,e5,Nf3,Qf6,d4,exd4,Nxd4,Bc5,Be3,c6,Qf3', 'Bxd4,Qxf6,Bxf6', 'https://lichess.org/training/6gjrT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gNb4', 'Rapid', 'youdi99', 2066, 'ffbs21', 2004, 'e4,e5,Bc4,Nf6,d4,exd4,e5,Qe7,Nf3,Nc6,O-O,Ng4,c3,Qc5,Bxf7+,Kxf7,Ng5+,Kg8,Qxg4,Qxe5,Qf3,Qf6', 'Qd5+,Qe6,Nxe6', 'https://lichess.org/training/6gNb4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6GNU9', 'Blitz', 'IM imdejong', 2480, 'jaoso78', 2506, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,O-O-O,Bd7,h4,Rc8,Kb1,Ne5,h5,Nxh5,Bh6,Bxh6,Qxh6,Rxc3,bxc3,Nf6,g4,Qa5,Qd2,Rc8,Kb2,b5,Be2,Rc4,a3,Ra4,Ra1,Qb6,Rhb1,a5,Kc1,Qc5,Rb3,b4,Kb2,bxa3+,Raxa3,Rxa3,Rxa3,a4,Ka2,h5,g5,Ne8,f4,Nc4,Bxc4,Qxc4+,Kb2,Nc7,f5,Nb5,Nxb5,Qxb5+,Ka1,gxf5,exf5,Qxf5,c4,Qe5+,Ka2,h4,Re3,Qxg5,Qf2,Be6,Ka3,Qc5+,Kxa4,Qxc4+,Ka3,Qc5+,Kb2,Qb6+,Kc1,Qd4', 'Rg3+,hxg3,Qxd4', 'https://lichess.org/training/6GNU9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Gny9', 'Blitz', 'gerodod52', 2140, 'pablosalermo1', 2010, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f3,Be7,Qd2,Qc7,O-O-O,O-O,Nd5,Nxd5,exd5,Bd7,Bd3,f5,Qf2,b5,Kb1,Bd8,c3,a5,Nc1,Na6,Ne2,a4,a3,Nc5,f4,Bf6,Bxc5,dxc5,d6,Qb7,fxe5,Bxe5,Nf4,b4,cxb4,cxb4,Bc4+,Kh8,Bd5,Bc6', 'Ng6+,hxg6,Qh4#', 'https://lichess.org/training/6Gny9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6GOEP', 'Rapid', 'Ahmed9696', 1600, 'kannan222psk', 1632, 'e4,e5,Nf3,d6,Nc3,Be6,d4,exd4,Nxd4,Nf6,Nf3,Nbd7,Bf4,Be7,e5,dxe5,Nxe5,O-O,Nxd7,Bxd7,Be2,c6,a3,Qe8,O-O,Be6,Bd3,Bc5,Re1,Rd8,Bg5,Be7,h3,Nd7,Bxe7,Qxe7,Qe2,Qf6,Ne4,Qd4,c3,Qd5,Rad1,Qb3,Bc2,Qb6,Qd3,Nc5', 'Nf6+,Kh8,Qxh7#', 'https://lichess.org/training/6GOEP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gONk', 'Rapid', 'mathtuition88', 1978, 'DaurAGRBA', 1963, 'e4,e5,Bc4,d6,d3,Be6,Bb3,Bxb3,axb3,a6,Nf3,Nc6,Nc3,Rb8,O-O,Be7,Nd5,Bf6,Nxf6+,Nxf6,Bg5,O-O,c3,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Kg7,f4,Qd7,fxe5,Nh7,Bf6+,Nxf6,exf6+,Kh6,Qd2+,Kh7,Rf3,Ne5,Rh3+', 'Qxh3,gxh3,Nf3+,Kf2,Nxd2', 'https://lichess.org/training/6gONk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gSYR', 'Rapid', 'Saadtop', 1611, 'Moog2020', 1644, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Qe2,d5,Bb3,Bg4,d3,Bb4+', 'c3', 'https://lichess.org/training/6gSYR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gT3Q', 'Blitz', 'Chuldum', 2392, 'drazan74', 2343, 'd4,Nf6,Nc3,d5,Bg5,Nbd7,Nf3,c6,Nd2,g6,e4,dxe4,Ndxe4,Bg7,Qe2,O-O,O-O-O,Qa5,h4,b5,Kb1,b4,Nxf6+,exf6,Bd2,bxc3,Bxc3,Qd5,h5,Nb6,f3,Be6,b3,a5,Qf2,a4,Bd3,axb3,axb3,Rfb8,Kc1,Qd7,Bb4,Nd5,Bc5,Nc3,Rde1,f5,hxg6,hxg6,Qh4,f6,Kd2,Nd5,g4,Kf7,Rxe6,Qxe6,Re1,Qd7,gxf5,gxf5', 'Qh5+,Kg8,Bxf5,Qxf5,Qxf5', 'https://lichess.org/training/6gT3Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6GuGX', 'Rapid', 'trothan', 2014, 'amilcar59', 2090, 'Nf3,Nf6,c4,e6,g3,d5,Bg2,dxc4,O-O,c6,Nc3,Bb4,a4,O-O,Qc2,Nbd7,Na2,Ba5,Qxc4,Nb6,Qc2,Nbd5,e4,Nb4,Nxb4,Bxb4,d4,Qb6,h3,Qc7,Bg5,Be7,Bf4,Qb6,Be3,Qc7,Rfd1,Nh5,a5,f5,e5,f4,Bxf4,Nxf4,gxf4,Rxf4,Qd2,Rf7,b4,Bd7,Qc3,Raf8,Rd3,Qd8,Re3,Rf4,Rd1,Be8,Qc4,Qd5,Qxd5,cxd5,Rd2,Bxb4,Rb2,Bxa5,Rxb7,Bb6,Ng5,Bc6,Nxe6', 'Bxb7,Nxf4,Rxf4', 'https://lichess.org/training/6GuGX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6GUNR', 'Rapid', 'Lotterywinner', 1792, 'Krinst', 1702, 'd4,d5,c4,dxc4,Nc3,e6,e4,Bb4,Bxc4,c5,d5,exd5,exd5,Qe7+,Ne2,Nf6,a3,Bxc3+,bxc3,O-O,Bb3,Ne4,c4,Nc3,Qd3,Qxe2+,Qxe2,Nxe2,Kxe2,Re8+,Kd3,Bf5+,Kc3,a5,h3,Re2,g4,Bg6,Be3,Nd7,h4,Ne5,Rhg1,Nf3,Rg3,Be4,Bd1,Rxe3+,fxe3,Nxh4,Ra2,Rb8,Rh2,g5,Rb2,f5,gxf5,Nxf5,Rxg5+,Kh8,Rf2,Nxe3,Ba4,b5,Bxb5,Nd1+,Kd2,Nxf2,Ke3,Rf8,Re5,Bg6,Re6,Ng4+,Ke2,Rf2+,Kd1,Rf4,d6,Nf2+,Kc1,Nd3+,Kd2,Nb2,Kc3,Nd1+,Kd2,Rd4+,Ke2,Nc3+,Ke3,Re4+', 'Rxe4,Nxe4,d7', 'https://lichess.org/training/6GUNR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gWie', 'Blitz', 'AlphazeroAuge', 1722, 'Rechenschwaeche', 1520, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,d3,Bg4,Be3,Bxe3,fxe3,h6,h3,Be6,Qe2,Bxc4,dxc4,Nge7,O-O-O,f5,exf5,Nxf5,Nd5,Qd7,e4,Nfd4,Nxd4,Nxd4,Qd3,Qa4,a3,O-O,Nxc7,Rac8,Nd5,Rxc4,b3,Rxc2+', 'Qxc2,Qxa3+,Qb2,Nxb3+,Kb1', 'https://lichess.org/training/6gWie');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6GWIo', 'Rapid', 'SurajTiwari', 1683, 'TLW77', 1678, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Bg7,f4,O-O,Be3,a6,Qd2,Bd7,O-O,b5,a3,Nc6,Nf3,Rc8,h3,b4,axb4,Nxb4,Na4,Bxa4,Rxa4,Rxc2,Qxb4,Rxe2,Bd4,Rxe4,Rxa6,Nd5,Qd2,Rxf4', 'Bxg7,Kxg7,Qxd5', 'https://lichess.org/training/6GWIo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6gzs0', 'Blitz', 'sukartakh', 1966, 'Logan2005', 1950, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Nc6,O-O,Bg4,h3,Bxf3,gxf3,Nxd4,Bxh7,Rxh7,Qxd4,Rxh3,Kg2,Qd7,Bg5,Nh7,Bf4,Qf5,Rg1,f6,Qa4+,Kf7,Bg3,Ng5,f4,Ne4,Qd4,e6,Nd2,Bc5,Qd3,Rah8,Nxe4,dxe4,Qd7+,Kg6,Kf1,e3,Bh4+,Kh5,Qxg7,Rh7,Qxf6,Rxh4', 'Rg5+,Qxg5,Qxg5#', 'https://lichess.org/training/6gzs0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6h07E', 'Rapid', 'stogsena', 1956, 'AlexeyShiman1954', 2001, 'd4,Nf6,Bg5,d5,f3,Nbd7,Nd2,e6,e4,dxe4,fxe4,Be7,Bd3,e5,c3,O-O,Ngf3,Ng4,Bxe7,Qxe7,Qe2,exd4,cxd4,c5,h3,Ngf6,e5,Nh5,Qe4,g6,O-O,Ng3,Qf4,Nxf1,Rxf1,cxd4,Re1,Nc5,Qxd4,Nxd3,Qxd3,Be6,Ne4,Bf5,Qe3,Bxe4,Qxe4,f5,Qd5+,Kg7,e6,b6,h4,Qc5+,Qxc5,bxc5,Ne5,Rfe8,Nd7,Rac8,Re5,c4,Kf2,Rc6,Nc5,Re7,Ke3,Rd6,g4,fxg4,Kf4,h5,a4,Rd2,Ke4,Rxb2,Kd5,c3,Kd6,Kf6', 'Ne4+,Kg7,Kxe7', 'https://lichess.org/training/6h07E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6h4aK', 'Blitz', 'tacticalC', 2581, 'IM www68', 2569, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Bd3,Bd6,O-O,Nge7,c3,O-O,h3,Bf5,Re1,Qd7,Na3,Bxa3,bxa3,Bxd3,Qxd3,f6,a4,Rfe8,Rb1,b6,Bf4,Na5,Qb5,c6,Qa6,Nf5,Nd2,g5,Bh2,Qb7,Qxa5', 'Rxe1+,Rxe1,bxa5', 'https://lichess.org/training/6h4aK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6H4Bx', 'Rapid', 'Babi_oynaaa', 2179, 'redentorbernardo1982', 2186, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Nc3,Ngxe5,Be2,O-O,O-O,Nxf3+,Bxf3,Ne5,Be4,f5,Qd5+,Nf7,Bxf5,Be7,Bc2,a5,b3,Ra6,Bb2,Rh6,h3,c6,Qd4,Bf6,Qd2,Ng5,Ba3,Re8,Rac1,d5,cxd5,Bxh3,Qe2,Bxc3,dxc6,Qf6,cxb7,Bd7,Qc4+,Be6,Qf4,Be5,Qxf6,Bxf6,Bd6,Bb2,Rb1,Bc3,b8=Q,Rxb8,Bxb8,Bd5,e4,Nxe4,Bxe4,Bxe4,Rbc1,Bb4,Rfd1,Rg6,Bg3,h5,Rd7,h4,Bxh4,Rxg2+,Kf1,Rh2,Rc8+,Kh7,Bf6', 'Rh1+,Ke2,Re1#', 'https://lichess.org/training/6H4Bx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6H9mm', 'Rapid', 'Valent71', 1888, 'ItouKaiji', 1828, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,d6,Re1,Bg4,c3,Be7,d4,O-O,Qd3,Bh5,Bg5,h6,Bh4,Bg6,Nbd2,d5,dxe5,Ng4,Qxd5,Bxh4,Nxh4', 'Qxh4,Nf3,Qxf2+', 'https://lichess.org/training/6H9mm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hamh', 'Rapid', 'algyyy', 1643, 'BOB99GG', 1632, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Nxd4,Qxd4,b6,O-O,Bb7,f3,d5,Bb5+,Ke7,Qb4+,Qd6,Qxd6+,Kxd6,exd5,Bxd5,Bf4+,Ke7,c4,Bb7,b3,Nf6,Nc3,Nd7,Rad1,Nc5,Bd6+,Kf6,Ne4+,Nxe4,fxe4+,Kg6,e5,f6,Bxf8,Rhxf8,exf6,Rxf6,Rxf6+,gxf6,Rd6,Kf7,Bd7,e5,Bc6,Bxc6,Rxc6,Re8,Rc7+,Re7,Rxe7+,Kxe7,Kf2,Kd6,Ke3,Kc5,Ke4,Kd6,Kf5,Ke7,g4,a6,h4,h6,h5,Kf7,Ke4,Ke6,a3,a5,b4,axb4,axb4,Kd6,Kf5,Ke7,c5,bxc5,bxc5,Kd7,Ke4,Kc6,Kf5,Kxc5,Kxf6,e4,Kf5', 'e3,g5,e2,gxh6,e1=Q', 'https://lichess.org/training/6hamh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hd29', 'Rapid', 'rRecep', 1767, 'TOPCYMOB', 1970, 'e4,e5,Nc3,Bc5,Nf3,d6,h3,Nc6,Bb5,a6,Bxc6+,bxc6,d4,exd4,Nxd4,Bxd4,Qxd4,Qf6,Qe3,Ne7,Bd2,O-O,O-O-O,Bb7,f4,c5,e5,Qe6,Rhg1,Nd5,Nxd5,Bxd5,b3,a5,g4,c4,Bc3,cxb3,cxb3,dxe5,f5,Qc6', 'Qxe5,f6,Qxd5+,Qxd5,Rxd5', 'https://lichess.org/training/6hd29');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Hf9B', 'Rapid', 'ibrahim24N', 1716, 'CIRNE', 1706, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,d6,Nc3,Nf6,Be2,g6,O-O,Bg7,Kh1,O-O,f4,Qc7,f5,Nc6,Be3,b5,fxg6,hxg6,Qd2,Re8,Bh6,Bh8,Nxc6,Qxc6,Bf3,Rb8', 'e5,Qc7,exf6', 'https://lichess.org/training/6Hf9B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hG1d', 'Classical', 'sergey_sinicin', 1857, 'TheDudeAbides', 1882, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,Nc6,Bb5,Qd6,Bf4,Qe6+,Nge2,Bd7,Bxc7,Nxd4,Qxb7,Nxc2+,Kd1,Ne3+,Kc1,Rd8,Bxd8,Bxb5,Qxb5+,Kxd8,Nd4,Qc4,Nc6+,Kc7,Qe5+,Kxc6,Qxe3,e6,Kc2,Bb4,Rhd1,Nd5,Qf3,Bxc3,bxc3,Qa4+,Kd2,Rb8,Rab1', 'Qxa2+,Ke1,Rxb1', 'https://lichess.org/training/6hG1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hGrm', 'Rapid', 'sleit', 1702, 'autiartist', 1743, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd5,Qe7,Be3,d6,Nc3,Be6,Qd3,a6,O-O-O,Rd8,Bd5,Bxd5,Nxd5,Qd7,Rhe1,Ne7,Nb6,Qc6,Nc4,b5,Nxd6+,Rxd6,Qxd6,Qc8,Qxc5,Nc6,Qh5,Be7,Bc5,O-O,Bxe7,Nxe7,Rd3,Nc6,Red1,Nb4,Kb1', 'Qxc2+,Ka1,Nxd3', 'https://lichess.org/training/6hGrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hHel', 'Bullet', 'dev14', 1690, 'JoseManuelRojo', 1664, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,e3,O-O,g3,b6,Bg2,Bb7,cxd5,Nxd5,O-O,Nxc3,bxc3,c5,Rb1,Nd7,Qb3,e6,Ba3,Rc8,dxc5,Nxc5,Bxc5,Rxc5,c4,Qc7,Rbc1,Rc8,Nd2,Bxg2,Kxg2,h5,Rfd1,b5,Kg1,bxc4,Qa3,c3,Ne4,Rc6,Nd6,Rd8,Nb5,Rxd1+,Rxd1,Qe5,Rc1,c2,Nd4,Qc5,Qb3,Bxd4,exd4,Qc3,Qb8+,Kg7,Qe5+,Kg8,Qb8+,Kg7,Qxa7,Rc4,Qb8,Rb4,Qe5+,Kh7,Qe2,Rb1,Qf1,Rxc1,Qxc1,Qd3,Kg2,Qd1,Qf4,c1=Q,Qxf7+,Kh6,Qf8+,Kg5,h4+,Kg4', 'f3+,Qxf3+,Qxf3#', 'https://lichess.org/training/6hHel');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hHMW', 'Rapid', 'LiverpoolFC88', 1810, 'gessy', 1857, 'Nf3,d5,d3,c5,g3,Nf6,Bg2,Nc6,O-O,e6,Nbd2,Be7,e4,O-O,e5,Ng4,Re1,Qc7,Nf1,Ngxe5,Bf4,Nxf3+,Bxf3,Bd6,Bxd6,Qxd6,h4,Nd4,Bg2,e5,c3,Ne6,Ne3,d4,Nf5,Qc7,Qe2,f6,Qg4,Kh8,Qe2,g6,Nh6,Ng7,c4,Nf5,Qd2,Kg7,Ng4,Nxg3', 'Qh6+,Kg8,Bd5+', 'https://lichess.org/training/6hHMW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6HjUX', 'Rapid', 'cardshark', 1878, 'Chess-Player001', 1926, 'd4,e5,dxe5,Nc6,Nf3,Qe7,e3,Nxe5,Nxe5,Qxe5,Nc3,Bb4,Bd2,Nf6,Be2,O-O,O-O,d6,a3,Ba5,Re1,a6,Bf3,c6,Rb1,d5,Ne2,Bxd2,Qxd2,Ne4,Bxe4,dxe4,b4,h5,Nf4,h4,h3,g5,Nh5,g4,hxg4,Bxg4,Nf4,Qg5,Qd4,Rad8,Qxe4,Rfe8,Qc4,Bf3,Kh2,Re4,Qc5,Rd5,Qb6,Rxf4,Rg1,Bxg2,Rxg2', 'Rxf2,Rxf2,Qg3+', 'https://lichess.org/training/6HjUX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6HKok', 'Blitz', 'bulbizar', 2102, 'KingOfHeemskerk', 2085, 'e4,c5,Nc3,e6,f4,d5,g3,d4,Nce2,e5,d3,Nc6,Nf3,Bg4,Bg2,Bd6,h3,Bxf3,Bxf3,f6,f5,Qc7,Bh5+,Kd8,Kf2,Nge7,Bf3,g6,g4,h5,fxg6,Nxg6,gxh5,Nf4,Bxf4,exf4,Qg1,Qf7,Qg6,Ke7,Rag1,Rag8,Qxf7+,Kxf7,Rg2,Rxg2+,Kxg2,Ne5,Rf1,Rg8+,Kf2,Nxf3,Kxf3,Rg5,Nxf4,Bxf4,Kxf4,Rxh5,Rf3,Rg5,Rg3,Rh5,Kg4,Rg5+,Kh4,Re5,Rg4,b5,Kg3,c4,h4,a5,Kf4,cxd3,cxd3,b4,Rg2,Rc5,Rh2,Rc1,h5,Rf1+,Kg4,Rg1+,Kf3,Rf1+,Ke2,Rb1,Kf3,Rf1+,Kg2,Rb1,Kg3,Rg1+,Rg2,Rd1,h6,Rxd3+,Kg4,Kg6,Rh2,Kh7,Kf5,Rf3+,Ke6,d3,Kd5,d2,Rxd2,Kxh6,Rg2,Rd3+,Ke6,Re3,Kxf6,Rxe4', 'Rh2+,Rh4,Rxh4#', 'https://lichess.org/training/6HKok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Hlq3', 'Rapid', 'JosephN', 1803, 'manublack', 1877, 'c4,Nf6,g3,c6,Bg2,g6,Nc3,Bg7,d4,O-O,e4,d6,Nge2,Nbd7,h3,e5,O-O,exd4,Nxd4,a5,f4,Nc5,Re1,Re8,Qc2,Qc7,Kh2,Bd7,Bd2,Nfxe4,Nxe4,Bxd4,Nxc5,dxc5,Bc3,Rad8,Rxe8+,Bxe8,Re1,Qd7,Rd1,Qe6,b3,Qf6,Bxa5,Ra8,b4,Bd7,a3,Bf5,Be4,Be6,Bd3,Ra6,Bc7,Rxa3,bxc5,Rc3,Qe2,Bxc5', 'Be5,Bd4,Bxf6', 'https://lichess.org/training/6Hlq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Hlyl', 'Classical', 'Nemu_khao', 1678, 'ChessAttack2', 1684, 'd4,g6,c4,Nf6,Nc3,Bg7,e4,d6,Bg5,O-O,Nf3,e5,dxe5,dxe5,Nxe5,Qxd1+,Rxd1,Nxe4,Nxe4,Bxe5,b3,Bf5,Nc5,Bc3+,Bd2,Re8+,Be2,Bd4,Nxb7,Bd3,Be3,Bc3+,Kf1,Bxe2+,Kxe2,Nc6,Rd3,Bb4,Kf3,Rab8,Nc5,Ne5+,Ke2,Nxd3,Nd7,Rbd8,Nf6+,Kf8,Nxe8,Kxe8,Rd1,Nb2,Rb1,Bc3,Rc1,Rd3,Rc2,Ke7,Rxb2', 'Rxe3+,Kxe3,Bxb2', 'https://lichess.org/training/6Hlyl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hmq5', 'Rapid', 'bisuk', 2084, 'keywood', 2018, 'e4,e5,Nf3,d6,Bc4,h6,h3,Nf6,Nc3,c6,O-O,Be7,d4,exd4,Qxd4,c5,Qd3,a6,a4,O-O,Bf4,Nc6,Rfd1,Ne8,Qe2,Be6,Bd3,Nb4,e5,d5,Qd2,Nxd3,Qxd3,c4,Qd2,f5,Nxd5,Bxd5,Qxd5+,Kh7,Qxb7,Rb8,Qxa6,Qc7,Rd4,Rb6,Qxc4,Rc6,Qd3,Rxc2,Rd7,Qc5,Rxe7', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/6hmq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hNtw', 'Blitz', 'yueo', 1751, 'aspero', 1730, 'd4,d5,Nc3,c6,e4,dxe4,f3,exf3,Nxf3,Bg4,Bc4,e6,O-O,Bxf3,Qxf3,Nf6,Ne2,Be7,c3,O-O,Bd3,Nbd7,Bg5,h6,Bd2,Nd5,Qg3,Kh8,Rae1,N7f6,a3,c5,c4,Nb6,Bc3,cxd4,Nxd4,Bc5,Qh4,Bxd4+,Bxd4,Qd6,Bxf6,Qxd3,Bc3,Qxc4,Rf4,Qc5+,Kh1,Qg5,Qh3,Qxf4,g3,Qf3+,Kg1,Nd5', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/6hNtw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hoPp', 'Blitz', 'Jimonios', 2405, 'IM licg', 2521, 'c4,g6,d4,Bg7,Nc3,Nf6,e4,O-O,f3,d6,Be3,b6,Qd2,Re8,O-O-O,c5,d5,a6,Kb1,b5,cxb5,Nbd7,h4,Ne5,g4,c4,h5,axb5,hxg6,b4,gxf7+,Kxf7,Nce2,Qa5,Nc1,c3,Qh2,cxb2,Qxb2,Ba6,g5,Bxf1,gxf6,Nc4,Rxh7,Nxb2,Rxg7+,Kxf6,Bd4+,e5,dxe6+,Kxe6,Kxb2,Qa3+,Kb1,b3,axb3,Reb8,Bb2,Rxb3,Nxb3,Qa2+,Kc1,Rc8+,Kd2,Qxb2+,Ke1,Qxb3,Rg6+,Kf7,Rgxd6,Bb5,Kf2,Rc2+,Kg3,Qc3,Nh3,Qg7+,Kf4,Ke7,Ng5,Qf8+,Kg3,Qg8,Re6+,Qxe6,Nxe6,Kxe6,Rb1,Bc6,Rb6,Kd6,Rb3,Rc5,Kf4,Rh5,Rd3+,Ke6,Ra3,Rh6,Ra6,Rf6+,Ke3,Kd7,Ra3,Re6,Rd3+,Ke7,Ra3,Rf6,Ra7+,Kd6,Ra1,Ke5,Rh1,Bd7,Rh5+,Ke6,f4,Ke7,e5,Ra6,Rh7+,Ke6', 'Rh6+,Ke7,Rxa6', 'https://lichess.org/training/6hoPp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hPW9', 'Rapid', 'Dawaanyam12', 1737, 'Khulan23', 1775, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Nf6,e5,Nd5,O-O,Bxc3,bxc3,Nxc3,Qd2,Nd5,c4,Ne7,Qg5,Bxf3,gxf3,d6,Qxg7', 'Rg8,Qxg8+,Nxg8', 'https://lichess.org/training/6hPW9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hqQZ', 'Bullet', 'AOKai29', 2036, 'rognvaldurmoller', 2002, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Be3,O-O,Qd2,e5,O-O-O,exd4,Nxd4,a6,Bh6,b5,a3,c5,Nde2,b4,axb4,cxb4,Nd5,Qa5,Kb1,Nxe4,Qe3,Bf5,Bxg7,Kxg7,g4,b3,gxf5', 'Qa2+,Kc1,Qa1#', 'https://lichess.org/training/6hqQZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Hufu', 'Rapid', 'morteza18130', 1902, 'CrapCrusher', 1896, 'e4,e6,Nf3,d5,exd5,exd5,Bb5+,c6,Ba4,Bd6,O-O,Ne7,Nc3,O-O,Re1,Bg4,h3,Bxf3,Qxf3,Nd7,d3,Qc7,Bg5,Ne5,Qe3,Rae8,Qxa7,f6,Bf4,g5,Bg3,Rb8,d4,Nc4,Bxd6,Nxd6,Qc5,Ndc8,Re3,b6,Qa3,b5,Bb3,Nf5,Rf3,Nxd4,Rd3,b4,Qa4,Nxb3,Nxd5,cxd5,Qxb3,Ne7,Rad1,Rfd8,Rd4,Qa5,Qe3,Nf5', 'Qe6+,Kh8,Qxf5', 'https://lichess.org/training/6Hufu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Hx0k', 'Blitz', 'FurmanIvan', 1769, 'YuraIvanov', 1534, 'd4,d5,e3,e6,Nf3,Nf6,Nc3,Nc6,Bb5,a6,O-O,axb5,Nxb5,Na5,Bd2,Nc4,Bc3,Nb6,Ne5,Ne4,Qe2,Nxc3,bxc3,Na4,Qg4,f5,Qg3,Nxc3,Nf3,Nxb5,Rab1,c6,Ne5,Be7,Qf4,g5,Qf3,Na3', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/6Hx0k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hXaP', 'Blitz', 'IM italian5', 2376, 'Davieskakra', 2347, 'Nf3,Nf6,c4,g6,Nc3,c6,e3,Bg7,d4,O-O,Be2,d5,O-O,Re8,b3,Nbd7,Bb2,Ne4,Qc2,Nxc3,Bxc3,dxc4,Bxc4,e5,Rad1,e4,Nd2,Nf6,h3,h5,b4,a6,a4,Bd7,Qb3,Qe7,b5,cxb5,axb5,Rec8,Bb4,Qe8,bxa6,bxa6,Bc5,Bb5,Rc1,Rcb8,Qa2,Bf8,Rc2,Rc8,Bxf8,Qxf8,Rfc1,Qe8,Nb3,Nd7,Na5,Nb6,Bb3,Rxc2,Rxc2,Rc8,Nb7,Rxc2,Qxc2,Qc6,Bxf7+,Kxf7', 'Nd8+,Ke8,Nxc6', 'https://lichess.org/training/6hXaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6hY4d', 'Rapid', 'Mercuryjon', 1877, 'Valanjoo', 1865, 'e4,g6,d4,Bg7,Nf3,d6,Be3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bc4,Ke7,Nc3,c6,O-O-O,Nf6,Ng5,Be6,Bc5+,Ke8,Bxe6,fxe6,Nxe6,Kf7,Nc7,Na6,Nxa6,bxa6,f3,Bf8,Be3,Bb4,Rd3,Rhd8,Rhd1,Rxd3,Rxd3,Bxc3,Rxc3,Rc8,Bxa7,Rc7,Be3,Nd7,g4,Ke6,a4,c5,b3,a5,Kb2,Rc6,h4,Kd6,Rd3+,Ke6,Kc3,Nb8,Rd5,Na6,Kc4,Nb4,c3,Nc2,Bf2,Na3+,Kd3,c4+,bxc4,Nxc4,Rd8,Nb2+,Kc2,Nxa4,Be1,Nb6,Rh8,Rc7,Kb3,Nc4,Ka4,Ne3,Kxa5,Ng2,Bf2,Rxc3,Rxh7,Rxf3,Bb6,Rf4,h5,gxh5,gxh5,Rxe4,Rg7,Nh4,h6,Nf5,h7,Rh4,Bf2,Rh6', 'Rg6+,Rxg6,h8=Q', 'https://lichess.org/training/6hY4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6I3MD', 'Rapid', 'Nalfein666', 1795, 'Alex-Krasnoyarsk', 1757, 'e4,c5,Nf3,Nc6,Be2,d6,c3,Nf6,d3,g6,Bg5,Bg7,Nbd2,O-O,d4,cxd4,cxd4,Qb6,Nb3,Bg4,Qc2,Bxf3,Bxf3,Nxd4,Nxd4,Qxd4,O-O,Rac8,Qe2,Rc7,Rad1,Qe5,Bh4,Rfc8,Bg3,Qa5,a3,Rc2,Qe3,Rxb2,e5,dxe5,Bxe5,Ra2,Bxb7,Rxa3,Qf4,Nh5,Qe4,Ra4,Qf3,Rd8,Bxg7,Kxg7,Bd5,Nf6,Bb3,Ra3,Qb7,e6,Bc2,Qb6', 'Qxb6,axb6,Rxd8', 'https://lichess.org/training/6I3MD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6i5mo', 'Rapid', 'Saberghafari1985', 1811, 'Akamaxo', 1751, 'e4,c5,Nf3,Nc6,Bc4,e6,d3,d5,exd5,exd5,Bb5,a6,Bxc6+,bxc6,h3,Qe7+,Qe2,Qxe2+,Kxe2,Nf6,Rd1,Bd6,Kf1,O-O,Kg1,Bf5,Bd2,c4,dxc4,Bxc2,Rc1,Be4,cxd5,cxd5,Ng5,Bg6,Nc3,h6,Nf3,Rab8,b3,Ne4,Na4,Nxd2,Nxd2,Be5,Nf3,Bxa1,Rxa1,Be4,Nd4,g6,Nc5,Rb4,Nc6,Rb5,Nd7,Rc8', 'Ne7+,Kg7,Nxc8', 'https://lichess.org/training/6i5mo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6iAHT', 'Rapid', 'Abangpapam', 1851, 'ABGudi', 1832, 'e4,c5,Nf3,g6,Nc3,Bg7,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd2,Nf6,Bc4,O-O,e5,Ne8,f4,d5,exd6,Nxd6,Bb3,Qb6,Qe2,Ba6,Qe3,Qxe3+,Bxe3,Nc4,Bxc4,Bxc4,O-O-O,Bxc3,bxc3,Bd5,Rhg1,e6,g3,a6,Bc5,Rfb8,a3,Rb5,Bd6,Rd8,Be5,Rd7', 'c4,Rc5,cxd5', 'https://lichess.org/training/6iAHT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6idMf', 'Classical', 'Anuruddha', 1681, 'rouzana524', 1655, 'e4,e6,Qf3,d5,e5,c5,c3,Nc6,Bb5,Ne7,d4,cxd4,cxd4,Bd7,Bg5,Nxd4,Bxd7+,Qxd7,Qd3,Ndc6,Ne2,Nxe5,Qg3,N7c6,O-O,Bd6,f4,Ng6,Nbc3,a6,Rad1,f6,Bh4,O-O-O,Rc1,e5,Na4,exf4,Nxf4,Bxf4,Rxf4,Nxf4', 'Nb6+,Kb8,Nxd7+', 'https://lichess.org/training/6idMf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6if9E', 'Blitz', 'aed2020', 1721, 'juliokidmate', 1883, 'e4,c5,Nf3,d6,Nc3,Nf6,Be2,g6,d3,Bg7,O-O,O-O,Be3,Ng4,Bf4,e5,Be3,Nxe3,fxe3,Be6,Ng5,Qxg5,Qd2,Nc6,Rf3,Nd4,Rg3,Nxe2+,Qxe2,Qe7,Rf1,f5,exf5,Bxf5,Nd5,Qd7,e4,Be6,Rxf8+,Rxf8,Ne3,d5,exd5,Bxd5,c4,Be6,b3,e4,dxe4,Bd4,h3,Qd6,Rf3,Rxf3,Qxf3,Bxe3+,Qxe3,Qd1+,Kh2,Qd4,Qf4,Kg7,a4,Qf6,Qd6,g5,e5,Qf4+,Kg1,Qe3+,Kh2,Bf5,Qe7+,Kg8,Qe8+,Kg7,Qe7+,Kh6,Qf6+,Bg6', 'Qf8+,Kh5,g4+,Kh4,Qh6+,Bh5,Qxh5#', 'https://lichess.org/training/6if9E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ifhp', 'Bullet', 'mimounsaoudi', 1872, 'alidiaa1984', 1884, 'e4,c5,Bc4,e6,e5,a6,Nf3,b5,Be2,Bb7,a4,bxa4,c3,d6,d4,dxe5,dxe5,Qc7,Nbd2,Nd7,Nc4,Bd5,Qxa4,h5,O-O,Nh6,Bg5,f6,exf6,gxf6,Bxf6,Bc6,Nfe5,Bxa4', 'Bxh5+,Nf7,Bxf7#', 'https://lichess.org/training/6ifhp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6IH2q', 'Rapid', 'Dalaa1', 1728, 'victorcorreiac', 1716, 'e4,e5,Nf3,d6,Nc3,a6,Ne2,Nf6,Ng3,Be7,a3,O-O,Bc4,c6,h3,b5,Ba2,Bd7,d4,exd4,Nxd4,c5,Ndf5,Bxf5,Nxf5,g6,Nh6+,Kg7,g4,Nxe4,f3,Bh4+,Kf1,Ng3+,Kg2,Nxh1,Kxh1,Bg5,Bxg5,Qxg5,Nxf7,Rxf7,Bxf7,Kxf7,Qxd6,Qe7', 'Qd5+,Kg7,Qxa8', 'https://lichess.org/training/6IH2q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6IHB2', 'Blitz', 'lemonia', 1606, 'Blackpawnimar', 1641, 'd4,d5,c4,dxc4,Qa4+,Nc6,Nf3,Bd7,Qxc4,Nf6,Qc2,e6,Bg5,Be7,Nc3,Qc8,e3,a6,a4,O-O,Bxf6,Bxf6,Be2,Nb4,Qb1,c5,Ne4,cxd4,Nxf6+,gxf6,Nxd4,e5,Nf3,Nc2+,Kf1,Nxa1,Qxa1,Qc2,g3,Rac8,Ne1,Qe4,Bf3,Qb4,Kg2,e4,Be2,Qd2,Qd1,Qxb2,Qxd7,Qxe2,h4,b5,axb5,axb5,Kh3,b4,Ng2,Qxf2,Nf4,Qxe3,Nh5,Qc3', 'Qg4+,Kh8,Qg7#', 'https://lichess.org/training/6IHB2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6iiGG', 'Rapid', 'ancientlawyer', 1866, 'tesbihK', 1888, 'f4,d5,Nf3,c5,e3,Nc6,Be2,g6,O-O,Bg7,Nc3,Nf6,b3,O-O,Bb2,Qc7,Rb1,a6,Na4,b6,c4,Bf5,d3,dxc4,bxc4,Rfd8,e4,Bxe4,Ne5,Ne8,Nxc6,Bxc6,Nc3,Nd6,Bf3,Bxf3,Qxf3,Nf5,Nd5,Bd4+', 'Bxd4,Nxd4,Nxc7', 'https://lichess.org/training/6iiGG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6iLkt', 'Rapid', 'Qoeidas', 1767, 'jokopokomajoko', 1726, 'Nf3,Nc6,e4,e5,Bc4,h6,c3,Nf6,O-O,Bd6,d4,O-O,dxe5,Bxe5,Nxe5,Nxe5,Bb3,Nxe4,Re1,d5,Qxd5,Nf3+,gxf3,Nxf2,Kxf2', 'Qh4+,Ke2,Re8+', 'https://lichess.org/training/6iLkt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6imCI', 'Rapid', 'geo186', 1870, 'morteza2011', 1835, 'c4,d6,e4,e5,Nf3,c5,Nc3,Be6,d3,Nc6,Be2,h6,O-O,Be7,Be3,Nd4,Nd5,Bxd5,exd5,f5,Nxd4,cxd4,Qa4+,Qd7,Qxd7+,Kxd7,Bd2,Nf6,f3,g5,Rae1,Rag8,Bd1,Ke8,b4,a6,Ba4+,Kf7,Rc1,g4,fxg4,fxg4,g3,h5,Be1,Rb8,c5,b5,Bb3,Rbc8,c6,Bd8,Bd2,Rg8,Rf2,Rg6,Rcf1,Kg7,Rc1,Rc7,a3,e4,Bf4,Be7,dxe4,Nxe4,Re2,Nc3,Re6', 'Rxe6,dxe6,Ne2+,Kg2,Nxc1', 'https://lichess.org/training/6imCI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6In1m', 'Rapid', 'oev', 1687, 'toscano6', 1636, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d3,Bc5,Bg5,f6,Bh4,g5,Bg3,Bg4,h3,Bxf3,Qxf3,Qd6,O-O,h5,Nd2,h4,Bh2,O-O-O,Qf5+,Kb8,Qg6,Ne7,Qf7,Rhf8,Qb3,Bb6,Nc4,Qe6,Nxb6,Qxb3,axb3,cxb6,Rfd1,Ng6,b4,Nf4,Rd2,Rd4,c3,Rxd3', 'Bxf4,Rxd2,Bxd2', 'https://lichess.org/training/6In1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6iqXd', 'Rapid', 'youpielove', 1666, 'Celso23', 1704, 'Nf3,d5,d4,Bf5,c4,dxc4,Nc3,Be6,Bf4,c6,a4,h6,e3,h5,Ng5,b5,Nxe6,fxe6,axb5,cxb5,Nxb5,Qb6,Bxc4,Na6,b3,Kf7,O-O,Nf6,Nc3,Nb4,Ne4,Nxe4,Qf3,Qc6,Ra4,a5,Rfa1,Nd2,Qxc6,Nxc6,Bb5,Nxb3,R1a3,Rc8,Rxb3,Nb4,Rb1,Nd5,Be5,Rh6,Rxa5,g5,g3,Bg7,Bxg7,Kxg7,Bd7,Rc7,Bxe6,Nc3,Rb6,Ne4,Raa6,Nd6,Rc6', 'Rxc6,Rxc6,Rxe6', 'https://lichess.org/training/6iqXd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6is6K', 'Rapid', 'ashfaqahmad', 2092, 'Arn169', 1967, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,c5,c3,Nc6,Bb5,Bd7,Nbd2,a6,Bd3,c4,Bc2,Be7,O-O,O-O,a4,Nh5,Bg3,Nxg3,hxg3,f5,Ne5,Nxe5,dxe5,Qc7,Nf3,g5,g4,fxg4,Nd4,h5,e4,Qxe5,exd5,Bd6,g3,Qxd5,Qd2,Be7,Qe3,e5,Be4,Qd6,Ne2,Bc6,Rad1,Qf6,Bxc6,bxc6,Qe4,Bc5', 'Qxc4+,Kg7,Qxc5', 'https://lichess.org/training/6is6K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6IsLZ', 'Rapid', 'Phytonixy', 1970, 'AndrewTatarsky', 2036, 'h3,e5,g4,d5,Bg2,Nc6,d3,f6,Nc3,Bb4,Bd2,Be6,a3,Bxc3,Bxc3,Nge7,e4,d4,Bd2,Qd7,Nf3,O-O-O,b4,a6,a4,h5,g5,f5,b5,axb5,axb5,Nb8,Nxe5,Qxb5,Nc4,Bxc4,dxc4,Qxc4,Rb1,Rhe8,Rb4,Qc6,O-O,fxe4,Qxh5,Na6,Qg4+,Kb8', 'Bxe4,Nxb4,Bxc6', 'https://lichess.org/training/6IsLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6iSZA', 'Classical', 'Paoloman', 1697, 'obi011', 1692, 'e4,e5,Nf3,d6,d4,Nf6,dxe5,Nxe4,Qd5,Nc5,Be3,Be6,Qd2,Ne4,Qd3,d5,Qb5+,Nc6,Qxb7,Nb4,Bb5+,Bd7,Bxd7+,Kxd7,Na3,a5,Ba7,Nc6,c4,Bxa3,bxa3,Nxa7', 'Qxd5+,Ke7,Qxe4', 'https://lichess.org/training/6iSZA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6iTOs', 'Rapid', 'lala1408', 1936, 'MONOMANE', 1851, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bc5,e3,f6,exf6,Qxf6,Nc3,Nxf2,Kxf2,Qxf4,Qd5,Qxe3+,Kg3,h5,Qe4+,Qxe4,Nxe4,Be3,Re1,h4+,Nxh4,Bf4+,Kxf4,Rxh4+,g4,Kf8,Kg3,Rh6,Bg2,Ne5,Rhf1+,Ke7,Nc3,d6,Nd5+,Kd8,Rf8+,Kd7,b3,c6,Ne3,Ke7,Nf5+', 'Kxf8,Nxh6,gxh6', 'https://lichess.org/training/6iTOs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6iw45', 'Classical', 'Richarh', 1776, 'Mariovns777', 1712, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,Bd6,Bg3,c5,Ngf3,O-O,Ne5,Nbd7,h4,Qc7,Ndf3,Ne4,Bf4,cxd4,exd4,Nxe5,Nxe5,Bb4+,c3,Nxc3,Qb3,Nxa2+,Bd2,Bxd2+,Kxd2,Qa5+,Ke3,f6,Rxa2', 'Qe1+,Be2,Qxh1', 'https://lichess.org/training/6iw45');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6IzgJ', 'Rapid', 'clava16', 2062, 'm-doug', 1866, 'd4,d5,e3,Nf6,Bd3,Nc6,Nd2,e5,dxe5,Nxe5,h3,Nxd3+,cxd3,Bf5,Ndf3,Bd6,Ne2,O-O,O-O,c5,b3,Rc8,Bb2,Bb8,Ng3,Bg6,Ne5,Qd6,f4,Nd7,Qg4,f5,Qg5,Nxe5,Bxe5,Qe6,d4,c4,bxc4,Rxc4,h4', 'h6,Qxg6,Qxg6', 'https://lichess.org/training/6IzgJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6J0fF', 'Rapid', 'BYTXXX', 1662, 'omerf61', 1798, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Bg4,h3,Bh5,c3,Nf6,d4,b5,Bb3,Nxe4,Bd5,Qd7,Bxe4,Rb8,d5,Na5,b4,Nc4,Nbd2,f5,Bc2,e4,g4,fxg4,Ng5,e3,Nxc4,bxc4,Bxe3,g6,Ba4,Rb5,Bxb5,axb5,Bd4,gxh3,Qe1+,Kd8,Bxh8', 'Qg4+,Kh1,Qg2#', 'https://lichess.org/training/6J0fF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6J7tq', 'Rapid', 'dww070', 2098, 'minhtuan_do', 2000, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Be7,Bf4,O-O,e3,a6,Bd3,dxc4,Bxc4,b5,Bd3,Bb7,Qc2,Nbd7,e4,c5,e5,Nd5,Nxd5,Bxd5,Bxh7+,Kh8,Be4,Nb6,Bxd5,Nxd5,Qe4,Nxf4,Qxf4,cxd4,O-O,d3,Rad1,Qd5,a3,Rad8,Rfe1,Qc4,Re4,Qb3,Rd2,Rc8,Re1,Rc4,Qg3,Rc2,Ng5,Bxg5,Qxg5,Rxd2,Qxd2,Qc2,Rd1,Rc8,f4,Qxd2,Rxd2,Rc1+,Kf2,Rc2,Ke3,Rc7,Rxd3,Kg8,g4,Kf8,h4,Ke7,f5,exf5,gxf5,Rc5,Ke4,Rc4+,Rd4,Rc2,b4,Rc3,Rd3,Rc4+,Kd5,Rxh4,Rc3,Rh5', 'Rc7+,Kd8,Rxf7', 'https://lichess.org/training/6J7tq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6j9qj', 'Blitz', 'Sumaher', 1923, 'Soho36', 1922, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Ne4,cxd5,cxd5,Nxe4,dxe4,e3,Qa5+,Qd2,Qxg5,Rc1,Nd7,Bb5,Qxg2,Qc2,Qxh1', 'Qxc8+,Rxc8,Rxc8#', 'https://lichess.org/training/6j9qj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JA7n', 'Rapid', 'Aleksandar1977', 1611, 'QEDemonstrandum', 1654, 'e4,c5,Nf3,g6,Ng5,Bg7,Nxf7,Kxf7,Bc4+,e6,Qf3+,Qf6,Qb3,Nc6,O-O,Nd4,Qd3,b6,c3,Nc6,f4,Nge7,f5,gxf5,exf5,Ke8,fxe6,Qg6', 'exd7+,Bxd7,Bf7+,Qxf7,Rxf7,Kxf7,Qxd7', 'https://lichess.org/training/6JA7n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JB1Q', 'Rapid', 'Springerschach70', 1807, 'karlen544', 1791, 'e4,e5,f4,Qh4+,g3,Qe7,Nf3,exf4,Bc4,Qxe4+,Be2,fxg3,hxg3,d6,Nc3,Qg4,Rh4,Qxg3+,Kf1,Bh3+,Rxh3,Qxh3+,Kf2,Nf6,Ng1,Qh2+,Kf1,Nc6,Bf3,Qf4,d4,Qxd4', 'Bxc6+,bxc6,Qxd4', 'https://lichess.org/training/6JB1Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6jC5D', 'Blitz', 'whoismoi', 1804, 'MAESTRO-25', 1822, 'e4,d6,Nf3,Nd7,d4,Ngf6,Nc3,g6,Bb5,Bg7,O-O,c6,Ba4,Qb6,Bb3,O-O,e5,dxe5,dxe5,Ng4,e6,fxe6,Re1,Nxf2,Qe2,Nd3+,Be3,Qa6,cxd3,b5,Bxe6+,Kh8,Ng5,h6,Nf7+,Kh7,Qg4,Nf6,Qh3,Rxf7,Ne2,c5,Nf4,g5,Qf5+,Kh8,Ng6+,Kg8,Nxe7+,Kf8,Bxc5,Rxe7,Bxc8,Qxc8,Bxe7+,Kg8,Qg6,Nh7,Bf6,Nxf6,Rf1,Qe6,Rae1,Qb6+,Kh1,Rf8,Re7,Ne8', 'Rxf8+,Kxf8,Qxe8#', 'https://lichess.org/training/6jC5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JCQi', 'Rapid', 'Leonid0', 1659, 'filhodeEd', 1637, 'b4,e5,Bb2,d6,c4,b6,d3,Bb7,e4,Be7,Nc3,c6,Nf3,Nf6,a4,a6,b5,c5,bxa6,Nxa6,a5,bxa5,Qa4+,Nd7,Nd5,Bxd5,cxd5,Nb4,Bc3,O-O,Be2,Nb6,Qb3,a4,Qd1,f5,O-O,f4,h3,h6,Nh2,g5,Ng4,Kh7,Nh2,Qe8,Bh5,Qd7,Ng4,Qb5,Bxb4,Qxb4,g3,Nd7,Rb1,Qa5,Rb7,Qd8,Nh2,Nf6,Bg4,h5,Bf5+,Kh6,g4,h4,Nf3,Rf7,Kh2,Nh7,Rg1,Nf8,Nxh4,gxh4', 'g5+,Bxg5,Rxf7', 'https://lichess.org/training/6JCQi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JEbU', 'Classical', 'mpolum', 1780, 'JossMoran', 1926, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Be7,O-O,Nf6,Re1,O-O,d3,d6,h3,Na5,Nbd2,Bb7,Nf1,c5,c4,bxc4,Bc2,cxd3,Bxd3,Nc6,Ng3,Nb4,Bb1,g6,Bh6,Re8,a3,Nc6,Qb3,Qd7,Ng5,Bf8,Ba2,Re7,Bxf8,Rxf8,Qf3,Kg7,Qd3,Nd8,Re3,h6,Nf3,Ne6,Bxe6,Qxe6,Nh4,Rd7,Qd2,d5,Ngf5+,Kh7,Rg3,g5', 'Rxg5,Nxe4,Rg7+', 'https://lichess.org/training/6JEbU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JgHg', 'Blitz', 'MMurdock', 2260, 'FM KillerAnaconda', 2350, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bd3,e6,O-O,Ngf6,Re1,Bd6,c3,O-O,Qe2,Qc7,Bg5,Rfe8,Bxf6,Nxf6,Ne5,Bxe5,dxe5,Nd5,h4', 'Nf4,Qe3,Nxd3', 'https://lichess.org/training/6JgHg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6jgpP', 'Rapid', 'MarcosAlban_6RET', 1756, 'elverlapampa', 1666, 'd4,e6,e4,d5,Nd2,Bb4,c3,Bd6,e5,Be7,Ngf3,c5,h4,cxd4,Nxd4,Bc5,b4,Bxd4,cxd4,Qb6,Qc2,Nc6,g3,Qxd4,Bb2,Qxb4,Rb1,Qa5,Bc3,Qc7,Qa4,Bd7,Qf4,Nge7,h5,h6,Qh4,O-O,f4,Nf5,Qh2,Ncd4,Rc1,Qb6,g4,Ne3,Bd3,Nxg4,Qg3,Ne3,Rg1,Nef5,Bxd4,Qxd4', 'Bxf5,Qxg1+,Qxg1', 'https://lichess.org/training/6jgpP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JJKw', 'Blitz', 'Shinchan_Always1', 2137, 'sd1109', 2138, 'e4,d5,exd5,Qxd5,Nc3,Qd6,d4,c6,Nf3,Nf6,Be2,e6,O-O,Qc7,Be3,Bd6,Qd2,Nbd7,Rad1,Nb6,Bg5,Nbd5,Nxd5,cxd5,Bxf6,gxf6,Qh6,Ke7,Bd3,Bd7,Rfe1,Rag8,g3,Bf4,Qh5,Rg7,Qxd5,Bc6,Qc5+,Bd6,Qh5,Rhg8,d5,Bxg3,hxg3,Rxg3+,fxg3', 'Qxg3+,Kf1,Qg2#', 'https://lichess.org/training/6JJKw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JjO3', 'Blitz', 'AngelUCV', 2185, 'eieieiei', 2220, 'e4,e6,Qe2,d5,exd5,Qxd5,Nf3,Nf6,g3,Nc6,Bg2,Nd4,Qd3,Nxf3+,Qxf3,Qc4,Qb3,Qxb3,axb3,Bc5,O-O,O-O,d3,c6,Be3,Bxe3,fxe3,Nd5,Rf3,e5,h3,Be6,e4,Nb4,Rf2,Na6,Nd2,Nc7,Kh2,f6,Nc4,Bxc4,bxc4,Ne6,c3,Rfd8,Rd2,Nc5,Rad1,Nb3,Rf2,c5,Bf3,a5,Bg4,Kf8,Be6,Ke7,Bd5,a4,g4,h6,h4,a3,bxa3,Rxa3,Rb2,Rd7,g5,hxg5,hxg5,Na5,Rb5,Nc6,gxf6+,gxf6,Rg1,Kd6,Rg6,Rxc3,Rxf6+,Kc7,Rxc5,Rh7+,Kg3,Rxd3+,Kg4,Rg7+,Kf5', 'Rf3+,Ke6,Re7#', 'https://lichess.org/training/6JjO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JN8s', 'Rapid', 'yxcvbn', 1905, 'mcaleap', 1912, 'e4,e5,Nf3,Qf6,Nc3,c6,Bc4,h6,h3,Bb4,Ne2,d6,c3,Ba5,Ng3,Ne7,d3,O-O,Nh5,Qg6,Nh4,Qh7,Qf3,d5,exd5,cxd5,Qg3,dxc4', 'Nf6+,Kh8,Nxh7', 'https://lichess.org/training/6JN8s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Js4a', 'Classical', 'anonenome', 1622, 'LensRC', 1616, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nc6,Bb5,Bd7,Nf3,a6,Bxc6,Bxc6,Nc3,Nf6,d5,Bd7,O-O,Bg4,Qd3,Bxf3,Qxf3,e6,Be3,h6,a4,exd5,Nxd5,Nxd5,exd5,b5,a5,Be7,Bb6,Qd7,Rac1,O-O,Rfe1,Rac8,Rxc8,Rxc8,Qe3,Bg5,Qe2,Rc1,Rxc1,Bxc1,b4,Ba3,Qe1,Qf5,g3,Qxd5,Qc3,Qd1+,Kg2,Qd5+,f3,Bxb4,Qxb4,Qa2+,Kf1,Qxh2,Qxd6,Qh1+,Kf2,Qh2+,Ke3,Qg1+,Kf4,Qc1+,Kg4,Qc4+,Qf4,Qe6+,Qf5,h5+,Kg5,Qh6+,Kh4,f6,Qxh5', 'g5+,Kg4,f5+,Kxf5,Qxh5', 'https://lichess.org/training/6Js4a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JVxC', 'Classical', 'luisito84', 2089, 'halfmanhalfknight', 2020, 'e4,d6,d4,Nd7,Nf3,h6,Bc4,c6,O-O,Qc7,Nc3,e5,dxe5,dxe5,a3,Be7,b4,Nf8,b5,Ng6,Bb2,Nf6,Nd2,O-O,bxc6,bxc6,Qf3,Bd7,Qg3,Rab8,Nb3,Kh7,Ne2,Qc8,Bxe5,Nh5,Qc3,f6,Bxb8,Qxb8,Nbd4,Ne5,Nf5,Ng4,g3,Bxf5,exf5,Bd6,Qf3,Ne5,Qxh5,Nxc4,Qg6+,Kh8,Nd4,Ne5,Qh5,Qb2,Rab1,Qxd4,Rfd1,Qc5,Rb7,Qxc2,Rxd6,Nd3,Qf3', 'Qc1+,Kg2,Ne1+,Kh3,Nxf3', 'https://lichess.org/training/6JVxC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JwYI', 'Rapid', 'Rapish', 1675, 'professormgz', 1924, 'e4,c6,Ne2,d5,e5,c5,d4,Nc6,f4,cxd4,Nxd4,Nh6,Bb5,Bd7,Nc3,e6,Be3,Nxd4,Bxd7+,Qxd7,Bxd4,Nf5,Bf2,Bb4,O-O,Bxc3,bxc3,b6,g4,Ne7,Bd4,O-O,Qf3,Rac8,f5,Nc6,f6,Nxd4,cxd4,g6,Qf4,Kh8,Qh6,Rg8,Rf3,Qa4', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/6JwYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JXMb', 'Rapid', 'Aleqo97', 1600, 'random12345', 1712, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,cxd5,Nxd5,Bxe7,Nxe7,e4,O-O,Nf3,Ng6,Bd3,Nd7,e5,b6,O-O,Bb7,Qc2,Bxf3,gxf3,Qg5+,Kh1,c5,Rg1,Qh5,Ne2,Qxf3+,Rg2,cxd4,Nxd4,Qh5,Rag1,Ndxe5,Be2,Qh4,Nf3,Nxf3,Bxf3,Rac8,Qe2,Qc4,Qe3,Qf4,Rxg6,Qxe3', 'Rxg7+,Kh8,fxe3', 'https://lichess.org/training/6JXMb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Jyb8', 'Rapid', 'palacio', 1670, 'max6980', 1631, 'e4,e5,Nf3,d6,c3,Nf6,Be2,Nxe4,Qa4+,Nc6,Qxe4,Be7,Bb5,O-O,Bxc6,bxc6,O-O,Bb7,Qe2,c5,d3,f5,Nbd2,e4,dxe4,fxe4,Nxe4,Bxe4,Qxe4,Bf6,Qd5+,Kh8,Bf4,Qd7,Bg3,Rae8,Qb7,Rf7,Qxa7,d5,Rad1,c4,Qb7,c6,Qb6,Bd8,Qc5,Be7,Qa5,Bd6,Bxd6,Qxd6,Nd4,c5,Nb5,Qf6,Rxd5', 'Qxf2+,Rxf2,Re1+,Rf1,Rfxf1#', 'https://lichess.org/training/6Jyb8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6JyHP', 'Blitz', 'H45M1', 2224, 'turmlp', 2087, 'e4,g6,d4,Bg7,Nc3,d6,Be3,Nd7,f4,e5,Nf3,a6,d5,Ne7,Bd3,O-O,O-O,exf4,Bxf4,f5,Ng5,Nf6,exf5,Nxf5,Ne6,Bxe6,dxe6,Qe7,Re1,Nh5,Nd5,Qh4,e7,Bd4+,Be3,Nxe3,exf8=Q+,Rxf8,Nxe3,Re8,Qf3,Rf8,Qd5+,Kg7,Qe4,Qf2+,Kh1,Rf4,Qe7+,Rf7,Qe4,Rf4,Qe7+,Kh6,Nd5,Rf7,Qe4,c6,Ne7,Rf4,Ng8+,Kg7,Qe8', 'Ng3+,hxg3,Rh4+,gxh4,Qxh4#', 'https://lichess.org/training/6JyHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6k02C', 'Rapid', 'Nordwer', 1756, 'Yveu_68380', 1713, 'e4,e5,d4,d6,Nf3,Bg4,h3,Bxf3,gxf3,exd4,Qxd4,Qf6,Qd1,Nc6,Nc3,Qd4,Bd3,Be7,Be3,Qe5,f4,Qe6,f5,Qd7,Qg4,Bf6,O-O-O,Ne5,Qe2,Nxd3+,Rxd3,Ne7,Bf4,Nc6,Nd5,Be5,Bxe5,Nxe5,Rd2,O-O-O,f4,Nc6,Rd3,Rhe8,Rhd1,Ne7,Qg4,Nxd5,exd5,f6,Ra3,a6,h4,Re4,h5,Rg8,Rg1,Rd4,Re3,Rxd5,Qe2,Rxf5,h6,g6,Re7,Qd8,Rxh7,Rh5,Rxg6', 'Rh1+,Kd2,Rxg6', 'https://lichess.org/training/6k02C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6K2S9', 'Rapid', 'dadac', 1630, 'H2Joe', 1626, 'd4,d5,e3,Nf6,f3,Nc6,b3,e5,dxe5,Nxe5,Bb2,Bd6,f4,Qe7,fxe5,Bxe5,Nc3,O-O,Qd2,Bg4,Be2,Bxe2,Ngxe2,Rad8,O-O-O,Bd6,h3,Ba3,Nb5,Bxb2+,Kxb2,a6,Nbd4,Ne4,Qe1,Qe5,g4,c5,h4,cxd4,exd4,Qf6,Rh2,Rfe8,g5,Qd6,Qg1,Rc8,h5,Qc6,Rc1,f6,gxf6,Nxf6,h6,g6,Qf1,b5,Rf2,Rf8,Nf4,Qc3+,Kb1,Qxd4,Rd1,Qc5', 'Ne6,Qe7,Nxf8', 'https://lichess.org/training/6K2S9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6k3Oq', 'Rapid', 'Don_CM36', 1734, 'morphyuk', 1752, 'e4,e5,g3,Nf6,Bg2,Bc5,d3,a6,Nf3,Ng4,Be3,Nxe3,fxe3,Bxe3,Qe2,Bb6,Nxe5,Qf6,Nc4,O-O,Nxb6,cxb6,e5,Qe6,O-O,Nc6,Bxc6,dxc6,d4,c5,c3,cxd4,cxd4,Qd5,Rf4,Bh3,Nc3,Qe6,d5,Qc8,Re1,Re8,Qh5,f6,e6,Qc5+,Kh1,Bxe6,Rfe4,Bxd5,Qxd5+,Qxd5,Nxd5,Red8,Nxb6,Rab8,Re7,Rd2,R1e2,Rbd8,Kg2,Kf8,Nc4,R2d4,b3,b5,Na5,Rd2,Nc6,Rxe2+,Rxe2,Rd7,Nb8,Ra7,h4,Kf7,h5,a5,g4,a4,b4,Rc7,Na6,Rc4,Kf3,g5,Re3,Rf4+,Kg3,h6,a3,f5,gxf5,Rxf5,Kg4,Rf4+,Kg3,Rh4,Rf3+,Ke6,Nc5+,Kd5,Rd3+,Kc4,Rf3,Rxh5,Ne6,Rh4,Ng7,Rd4,Nf5,Rd3,Nxh6', 'Rxf3+,Kxf3,Kb3', 'https://lichess.org/training/6k3Oq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6K4On', 'Rapid', 'Khwgo', 1638, 'DankoTako', 1691, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,f3,Bc5,Be3,d6,Qd2,Nxd4,Bxd4,O-O,Be2,Bxd4,Qxd4,Be6,Nc3,c5,Qd2,d5,e5,Nh5,g4,Qh4+,Kd1,f6,gxh5,fxe5,Nxd5,Rad8,c4,Rf4,Kc2,Rxc4+,Bxc4,Qxc4+,Qc3,Bf5+,Kc1,Qxd5,b3,b6,Kb2,Qd2+,Qxd2,Rxd2+,Kc3', 'Rc2#', 'https://lichess.org/training/6K4On');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6K7GW', 'Rapid', 'tiegie', 1798, 'hassanissa', 1819, 'e4,d5,exd5,c6,dxc6,e5,cxb7,Bxb7,d3,Bc5,Be3,Bd6,Nc3,Nf6,Qd2,a5,a3,Nbd7,Nf3,e4,dxe4,Ne5,Be2,O-O,Rd1,Bc7,O-O,Nxe4,Nxe4,Bxe4,Qxd8,Raxd8,Bf4,Nxf3+,Bxf3,Bxf3', 'Rxd8,Bxd8,gxf3', 'https://lichess.org/training/6K7GW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6kAAj', 'Blitz', 'haxo', 1675, 'kingnapper14', 1627, 'e4,c5,Nf3,Nc6,g3,Nf6,d3,g6,Bg2,Bg7,O-O,O-O,Nc3,e6,Bg5,h6,Be3,Ng4,Bxc5,d6,Ba3,Nce5,Nxe5,Nxe5,f4,Nc6,e5,d5,Bxf8,Bxf8,a4,Qb6+,Kh1,Qxb2,Qd2', 'Bb4,Rfb1,Qxc3,Qxc3,Bxc3', 'https://lichess.org/training/6kAAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6KAaP', 'Blitz', 'retiredchess', 2149, 'Jhon347', 2141, 'd4,Nf6,c4,g6,f3,Bg7,e4,d6,Nc3,O-O,Be3,Nc6,Nge2,e5,d5,Ne7,g4,c6,h4,cxd5,cxd5,Bd7,h5,a6,hxg6,fxg6,Bg2,Rc8,Qd2,b5,a3,Qa5,Bh6,Bxh6,Qxh6,b4,g5,Nh5,Ng3,bxc3,Nxh5,cxb2+,Kf2,Qd2+,Kg3,Rf7,Nf6+,Kh8', 'Qxh7+,Rxh7,Rxh7#', 'https://lichess.org/training/6KAaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6KBWf', 'Rapid', 'THEFLOYD', 1640, 'sebbhlr', 1848, 'c4,c5,Nc3,g6,Nf3,Bg7,Qc2,Nc6,a3,Nf6,g3,O-O,Bg2,d6,O-O,Bf5,d3,Nd7,e4,Be6,Ne2,f5,Ng5,Rf6,Nxe6,Rxe6,Be3,fxe4,Bxe4,Nde5,Bd5,Qd7,Nf4,Nd8,Nxe6,Nxe6,f3,Kh8,Qd2,Rf8,f4,Ng4,Rae1,Nc7,Bf3,Nxe3,Qxe3', 'Bd4,Qxd4+,cxd4', 'https://lichess.org/training/6KBWf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6kdG2', 'Rapid', 'MrWhite1896', 1698, 'pyruiz', 1672, 'e4,e5,d4,d5,Nc3,Nf6,exd5,Nxd5,Nxd5,Qxd5,c3,exd4,cxd4,Nc6,Ne2,Bf5,Be3,O-O-O,f3,g6,Nc3,Qd7,Bb5,a6,Bxc6,Qxc6,O-O,Bg7,g4,Bxd4,Bxd4,Be6,Qd3,Rhe8,Rad1', 'Bc4,Qd2,Bxf1', 'https://lichess.org/training/6kdG2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6kDPe', 'Rapid', 'Cybernautilus', 1834, 'geremy', 1703, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,c3,Nf6,f3,g6,Be3,Bg7,Be2,O-O,O-O,Ne5,Nd2,a6,h4,Nh5,f4,Nc6,Bxh5,gxh5,Qxh5,Nxd4,cxd4,f5,e5,Be6,Qg5,Rc8,h5,h6,Qg3,Bf7,Qh4,Kh7,Qh3,e6,Nf3,Rc2,Ng5+,hxg5,fxg5,Kg8', 'h6,Bg6,hxg7', 'https://lichess.org/training/6kDPe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Kec5', 'Rapid', 'gz_k', 1621, 'jebjenkins', 1671, 'e4,e5,Bc4,Nc6,d3,Nf6,Nc3,d6,Be3,g6,Bg5,h6,Be3,Bg7,h4,h5,Qe2,Bg4,f3,Qd7,fxg4,Nxg4,O-O-O,O-O-O,Nb5', 'Nxe3,Qxe3,Bh6,Qxh6,Rxh6', 'https://lichess.org/training/6Kec5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6keVQ', 'Blitz', 'Rydy', 1698, 'ginnyginny', 1692, 'e4,e6,d4,b6,Nf3,Bb7,Nc3,Bb4,Bd3,Bxc3+,bxc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Bxe4,Be5,Bxd3,Qxd3,d6,Bxf6,Qxf6,O-O-O,Nd7,Rhe1,O-O-O,Qa6+,Kb8,Kb2,e5,Rb1,exd4,Nxd4,Nc5', 'Nc6+,Ka8,Qxa7#', 'https://lichess.org/training/6keVQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6KJAx', 'Rapid', 'tonibe', 1908, 'magic-03', 1957, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d3,Bf5,Be3,Nc6,Nf3,O-O-O,Be2,f6,O-O,g5,a3,e5,Qc1,h5,c4,Qd7,Rd1,Bg6,b4,Bh7,Qc3,g4,Nh4,Bg7,b5,Ne7,Qa5,Bxd3,Rxd3,Qxd3,Bxd3,Rxd3,Qxa7,Rhd8,Qa8+,Kd7,Qxb7,Ke6,g3,f5,Bc5,f4,Bxe7,Kxe7,Qxc7+,R8d7,Qc5+,Kf6,Re1,Kg5,a4,f3,a5,Rd1,Kf1,Kh6,a6,e4,b6', 'Rxe1+,Kxe1,Bc3+,Kf1,Rd1#', 'https://lichess.org/training/6KJAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6KK7w', 'Rapid', 'Dubno', 1828, 'bobbyplayschess', 1724, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,Be2,d6,O-O,c5,c3,cxd4,exd4,Re8,Bg3,Nc6,d5,Nb8,c4,Nbd7,Nc3,Nc5,Re1,e5,dxe6,Bxe6,Qxd6,Nfe4,Nxe4,Nxe4,Qxd8,Raxd8,Be5,Bxe5,Nxe5,Bf5,f4,Rd2,b3,Nc3,Bg4,Bxg4,Nxg4,Rxe1+,Rxe1,Ne2+,Kf1,Nxf4,g3,Ne6,Re2,Rd1+,Kf2,Nd4,Re7,Rd2+,Ke3', 'Re2+,Kxd4,Rxe7', 'https://lichess.org/training/6KK7w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6kkLh', 'Rapid', 'Buck_by', 1797, 'sudhir', 1693, 'e4,c5,Nc3,d6,f4,e6,Nf3,a6,d4,cxd4,Qxd4,Nc6,Qd1,g6,Nd4,Bg7,Nxc6,bxc6,Bd3,Ne7,O-O,O-O,f5,exf5,exf5,Nxf5,Ne2,d5,c3,c5,Bc2,c4,Bxf5,Bxf5,Rxf5,gxf5,Ng3,Qd7,Qf3,d4,Bd2,Rab8,Nxf5,Rxb2,Qg4,f6', 'Nh6+,Kh8,Qxd7', 'https://lichess.org/training/6kkLh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6KLNR', 'Rapid', 'lyuter0777', 1905, 'malashko', 1915, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be3,O-O,Nf3,e5,d5,Nbd7,Be2,a5,O-O,b6,Qc1,Nc5,Nd2,Ng4,Bxc5,bxc5,Qd1,Nh6,h3,f5,exf5,Nxf5,Nce4,h5,b3,Bh6,Nf3,Qe7,Bd3,Qg7,Nfg5,Bd7,Qe2,Nd4,Qd1,Bxg5,Nxg5,Qf6,Ne4,Qf4,Rc1,Bxh3,gxh3,Nf3+,Kg2', 'Qh2#', 'https://lichess.org/training/6KLNR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6KLum', 'Rapid', 'AK006', 1950, 'Gmjmk3000', 1623, 'e4,e6,d4,d5,Nd2,c5,exd5,Qxd5,Ngf3,cxd4,Bc4,Qd6,Nb3,Nc6,Nbxd4,Nxd4,Nxd4', 'Qb4+,Qd2,Qxc4', 'https://lichess.org/training/6KLum');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6kmOi', 'Blitz', 'IM Prettyfly', 2560, 'IM Blend99', 2496, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,c3,Bd7,d4,g6,O-O,Bg7,Re1,Nge7,d5,Nb8,c4,O-O,Nc3,Bc8,Be3,h6,c5,f5,cxd6,cxd6,exf5,gxf5,Rc1,Nd7,g3,Nf6,Nh4,f4,Bd2,Nf5,Nxf5,Bxf5,Bc2,Bg4,f3,Bh3,Ne4,Nxe4,Bxe4,Qb6+,Kh1,Qf2,Rg1,Rac8,Rxc8,Rxc8,gxf4,exf4,Bxf4,Kh8,Bxd6,Qxb2,Bf4,Bd4,Rg3,Rg8,Rxg8+,Kxg8,Qd2,Qb5,Qxd4', 'Qf1+,Qg1+,Bg2#', 'https://lichess.org/training/6kmOi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6knEk', 'Rapid', 'sergio_chess1', 1706, 'a_ramandi1385', 1661, 'e4,e6,d4,d5,e5,c5,c3,Ne7,Nf3,Ng6,Be2,Nc6,Bb5,Qb6,Qe2,cxd4,cxd4,a6,Ba4,Bd7,Bxc6,bxc6,Nc3,Bb4,O-O,O-O,Bg5,h6,Bh4,Qa5,Rac1,Nf4,Qe3,Ng6,Bg3,Bxc3,Rxc3,Qxa2,Qd2,Rab8,Rfc1,Rxb2,Qe3,Rfb8', 'Ra3,Qb1,Rxb1,Rxb1+,Ne1', 'https://lichess.org/training/6knEk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6kocR', 'Rapid', 'Rakesh121', 1782, 'HGhosoun', 1807, 'e3,e6,c4,d5,cxd5,exd5,b3,Nf6,Bb2,Nc6,Bb5,Bg4,Qc1,Bd7,Bxf6,Qxf6,Nc3,d4,Nd5,Qd8,Nf3,dxe3,dxe3,Bb4+,Kf1,O-O', 'Bxc6,Bxc6,Nxb4,Bxf3,gxf3,a5,Nc2', 'https://lichess.org/training/6kocR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6koI9', 'Rapid', 'sosed', 1771, 'kazakitos', 1691, 'e4,c5,Nf3,d6,c4,e5,h3,Nc6,Nc3,Nf6,Be2,Be7,O-O,a6,a3,O-O,Nd5,Rb8,d3,Re8,Be3,Bf8,Qd2,Nxd5,exd5,Ne7,Bd1,Bd7,b4,b6,Bc2,g6,Ng5,f5,f4,Bh6,Ne6,Qc8,fxe5,Bxe3+,Qxe3,Bxe6,exd6,Nxd5,cxd5,Bxd5,Qf4,Qc6,Rf2,Rbd8,Rc1,Rxd6,bxc5,bxc5', 'Ba4,Qb6,Bxe8', 'https://lichess.org/training/6koI9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6KpRl', 'Rapid', 'SantiagoGM97', 2065, 'orior', 2112, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,Na5,Bc2,c5,d4,cxd4,cxd4,Qc7,d5,Bg4,Nc3,O-O,Be3,Nc4,b3,Nxe3,Rxe3,Rac8,Rc1,Qa5,h3,Rxc3,Rxc3,Qxc3,hxg4,Nxg4,Bb1,Qa5,Rc6,h5,Qc1,Ra8,a3,Qd8,Rc7,Bf6,Bd3,Qb8,Qc6,Bd8,Rb7,Qc8,a4,bxa4,bxa4,a5,Bb5,Nf6,Nd2,Qg4,Qc3,Rc8,Bc6,Nxe4,Nxe4,Qxe4,Qh3,Qg4,Qxg4,hxg4,Rd7,Bc7', 'Bb7,Rd8,Rxc7', 'https://lichess.org/training/6KpRl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6kpYv', 'Blitz', 'career26', 1556, 'muslum_2010', 1523, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Nc3,O-O,Kh1,d6,h3,Be6,Bd3,Nh7,f4,f5,e5,Qh4,Qf3,dxe5,fxe5,Bd4,Bf4,Bxc3,bxc3,Bd5,Qe3,g5,Bg3,Qh5,Bxf5,Rae8,e6,Nf6,e7,Rf7,Be6,Rxe7,Rxf6,Rxe6,Rxe6', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/6kpYv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ksy1', 'Rapid', 'huynhkhoa12', 1816, 'Denvlg', 1796, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,Re1,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,O-O,Qd2,a6,Nf3,Ng4,Bg5,Nge5,Nxe5,Nxe5,Bh6,Rac8,Bxg7,Kxg7,f4,Nc4,Qd4+,Kg8,f5,Nxb2,Nd5,Nc4,e5,dxe5', 'Nf6+,exf6,Qxd7', 'https://lichess.org/training/6ksy1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6KU2Y', 'Rapid', 'Mhamed', 1910, 'rasoool1891', 1958, 'e4,e5,Bc4,d6,Nf3,Be7,h3,Nf6,Nc3,O-O,O-O,Nc6,a3,Nxe4,Bxf7+,Rxf7,Nxe4,d5,Nc3,Be6,d4,Bf6,dxe5,Nxe5,Re1,Qd6,Nd4,Bxh3,gxh3,Bh4,Be3,Raf8,Rf1,Nf3+,Nxf3,Rxf3,Qxd5+,Qxd5,Nxd5,Rxh3,Kg2,Rhf3,Nxc7,R3f5,Ne6,R8f6,Nd4', 'Rg6+,Kh1,Rh5', 'https://lichess.org/training/6KU2Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6kwRF', 'Rapid', 'olive46', 1634, 'aserena1', 2152, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,h3,O-O,Nc3,d6,Na4,Bb6,Nxb6,axb6,Be3,d5,exd5,Nxd5,Bg5,f6,Bh4,Na5,Bxd5+,Qxd5,c4,Qc5,O-O,Nc6,Bg3,Rd8,Qe2,Bf5,Rad1,Rxa2,Rd2,Nd4,Nxd4,Qxd4,Rfd1,Bd7,Kh2,Ba4,Rb1,Be8,f3,c5,Bf2,Qd6,Bg3,b5,Rbd1,h5,h4,bxc4', 'dxc4,Rxb2,Rxd6,Rxe2,Rxd8', 'https://lichess.org/training/6kwRF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6kWu0', 'Blitz', 'Jesperkristensen', 1753, 'ricmond004', 1724, 'e4,e5,Nf3,Bc5,Bc4,d6,d3,Bg4,O-O,Nf6,Nbd2,Nc6,h3,Bh5,Qe1,Nd4,Nxd4,Bxd4,c3,Bb6,Kh1,Qd7,f4,c6,fxe5,dxe5,Nf3,Bc7,Ng5,O-O,Qh4,g6,Rxf6,Qe7,Nxh7,Kxh7,g4,Bd8,gxh5,Qxf6', 'hxg6+,Kxg6,Qh6#', 'https://lichess.org/training/6kWu0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6L0S6', 'Rapid', 'Wise_Pilgrim', 1831, 'solligonio', 1875, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,c6,Nf3,Bg4,h3,Bh5,g4,Bg6,Ne5,e6,Bg2,Bd6,Nxg6,hxg6,Bd2,Nf6,Qe2,Na6,O-O-O,Qe7,Kb1,O-O-O,Bxc6,bxc6,Qxa6+,Qb7,Qd3,Kc7,Bc1,Rb8,b3,Nd5,Nxd5+,cxd5,f4,Kd7,f5,gxf5,gxf5,a5,fxe6+,fxe6,a4,Qc6,Rhg1,Rhg8,Rdf1,Qxa4,Rf7+,Kc6,Rgxg7,Rxg7', 'Qa6+', 'https://lichess.org/training/6L0S6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6L29g', 'Rapid', 'igv', 1691, 'asirny', 1686, 'c3,e5,d4,exd4,cxd4,d5,e3,Nf6,h3,b6,Nc3,Bb4', 'Qa4+,Nbd7,Qxb4', 'https://lichess.org/training/6L29g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6l47a', 'Blitz', 'CrookedRook13', 1772, 'yesidsuazatorres2001', 1948, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Bd7,O-O,cxd4,cxd4,f6,Re1,fxe5,dxe5,Nge7,Nc3,Ng6,Bd3,Bb4,Qc2,Nf8,Be3,d4,a3,Bxc3,bxc3,dxe3,fxe3,Rc8,Rab1,Qc7,Qb3,b6,Ba6,Rd8,Rbd1,Nxe5,Ng5,h6,Ne4,Nh7,Nd6+,Kf8,Rf1+,Kg8,Nf5,Nf6,Bb5,Bxb5,Rxd8+,Qxd8,Qxe6+,Nf7,Ne7+,Kh7', 'Qf5+,g6,Qxg6#', 'https://lichess.org/training/6l47a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6l4w0', 'Rapid', 'Sipo', 1692, 'wildstorms3', 1701, 'e4,e5,Nf3,d6,d4,f6,d5,f5,Bb5+,c6,dxc6,bxc6,Bd3,f4,Nc3,g5,Bd2,g4,Ng1,h5,Qe2,Qh4,O-O-O,a6,g3,f3,Qe3,Qd8,h3,Bh6,Qe1,Bxd2+,Qxd2,Qf6,hxg4,Bxg4,Qe3,Nd7,Kb1,Ne7,Na4,c5,c3,a5,Rc1,Rb8,Bc2,Nc6,Bd1,Nb6,Nxb6,Rxb6,Nxf3,Ke7,Nd2,Bxd1,Rcxd1,Rhb8,Nc4,Rxb2+,Nxb2,a4,a3,Na5,Ka1,Nb3+,Kb1,Na5,Rd2,Nc4,Qd3,Nxd2+,Qxd2,Qg6,Qd3,Qf7,f3,Rxb2+,Kxb2,Qb3+,Kc1,Qxa3+,Kd2,Qb2+,Ke3,a3,Qe2,Qxc3+,Kf2,Qd4+,Kg2,c4,Rxh5,Qc3,Qa2', 'Qb2+,Qxb2,axb2', 'https://lichess.org/training/6l4w0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6l6Mz', 'Rapid', 'Cullarvega', 1601, 'NPEREZ1027', 1840, 'd4,d5,c4,e6,Nf3,Nf6,a3,Nbd7,Bf4,c6,Nbd2,Nh5,Bg3,Nxg3,hxg3,h5,c5,Nf6,e3,g6,Bd3,Bh6,Ne5,Qc7,g4,hxg4,Nxg4,Nxg4,Qxg4,e5,Qg3,Bf5,Bxf5,gxf5,dxe5,O-O-O,f4', 'Bxf4,Qxf4,Rxh1+', 'https://lichess.org/training/6l6Mz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6l7aA', 'Rapid', 'JaszeJ', 1714, 'LUIS-ESCALANTE-GALLA', 1718, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Bc4,Nf6,Bg5,Be7,O-O,O-O,Nc3,Nc6,Nd5,Nd4,Nxe7+,Qxe7,Bxf6,Qxf6,Qxf6,gxf6,c3,Nc2,Rac1,Ne3,fxe3,Kg7,Rf2,Rad8,Rcf1,Rd6,Rf3,a6,Bb3,b5,Rd1,Rb6,Rd7,c5,Bd5,b4,c4,a5,Rg3+,Kh6,Rxf7,Rxf7,Bxf7,a4,Bd5,b3,axb3,axb3,Rf3,Kg5,Bg8,h5,Rf5+,Kg6,h3,Rd6,Bd5,Ra6,Rf2,Ra1+,Kh2,Re1,g4,h4,Kg2,Rxe3,Rf3,Re2+,Rf2,Re3,Bc6,Rg3+,Kh2,Kg5,Rf5+,Kg6,Be8+,Kg7,Rh5,Re3,Bc6', 'Re2+,Kg1,Rxb2', 'https://lichess.org/training/6l7aA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6L7qM', 'Rapid', 'RomekJajko', 1694, 'Smike', 1646, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,e6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Qf3,Nf6,Re1,Be7,Bg5,O-O,Nd2,d5,exd5,cxd5,Bxf6,Bxf6,Qxd5,Rb8,Nb3,Qe7,Qf3,Bb7,Bd5,Bxd5,Qxd5,Rfd8,Qf3,Rb4,c3,Rf4,Qe2,Rf5,Rad1,Re8,h3,Rg5,Qe3,Rg6,Nd2,Bg5,Qe4,Qe6,b3,Bf4,Nf3,Qxh3,Kf1,Rxg2,Ke2,Qc8,c4,Rd8,Rxd8+,Qxd8,Rg1,Rxg1,Nxg1,h6,Nf3,g5,Nxe5,Qd2+,Kf3,Qd1+,Kg2,Qh5,Qa8+,Kg7,Qf3', 'Qh2+,Kf1,Bxe5', 'https://lichess.org/training/6L7qM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6lcmS', 'Classical', 'gbrooks', 1719, 'Adroguense413', 1674, 'e4,e5,Bc4,h6,Nf3,Nf6,Nxe5,d5,exd5,Nxd5,Qf3,Be6,Nc3,c6,Nxd5,cxd5,Bb5+,Nc6,Nxc6,Qb6,Nd4+,Bd7,Bxd7+,Kxd7,Qxd5+,Qd6,Qxb7+,Qc7,Qxa8,Qe5+,Ne2,Qc7,Qd5+,Bd6,Qxf7+,Be7,O-O,Rf8,Qxg7,Qxc2,Qxh6,Bc5,Qh3+,Ke8,Qc8+,Ke7,Qc7+,Ke8,Nd4,Rxf2,Rxf2', 'Qd1+,Rf1,Bxd4+,Kh1,Qxf1#', 'https://lichess.org/training/6lcmS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6LGNn', 'Rapid', 'genomos', 1886, 'Pawntoqueentomate', 1811, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,b6,Be3,Bb7,Qd2,Nc6,Nh3,h5,Be2,Qd7,Nf4,O-O-O,a3,g5,Nfd5,g4,Nxf6,Bxf6,f4,e5,fxe5,dxe5,d5,Ne7,Rf1,Ng8,c5,bxc5,Bxc5,Bh4+,g3,Be7,Bxa7,h4,Rc1,hxg3,hxg3,f6,Nb5,Bd6,Qa5,Rh3,Bb6,Kb8,Nxd6,cxb6,Qxb6,Rxg3,Nf5,Rg2,b3,Rc8,Rxc8+,Qxc8,Nd6', 'Qc1+,Bd1,Qd2#', 'https://lichess.org/training/6LGNn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6LGqz', 'Classical', 'gits23', 1615, 'aarontcannon', 1623, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Bg4,Re1,f6,c3,Nb6,Bb3,Qd7,d4,O-O-O,Re4,Bxf3,gxf3,exd4', 'Be6,Qxe6,Rxe6', 'https://lichess.org/training/6LGqz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6LgSQ', 'Rapid', 'Napalm10', 1932, 'macan', 1909, 'e4,e5,d3,Nf6,f4,exf4,Bxf4,d6,Nf3,Be7,c3,O-O,Nbd2,Nc6,Qc2,Bg4,O-O-O,Nh5,Be3,Ne5,h3,Bxf3,gxf3,Ng3,Rg1,Nxf1,Rdxf1,f5,f4,Ng6,exf5,Rxf5,Rxg6,hxg6,Qb3+,d5,Rg1,g5,fxg5,Bxg5,Bxg5,Rxg5,Rh1,b6,Ne4,Rg6,Nf2,c5,Ng4,Qg5+,Kb1,Rf8,a3,Re6,Qd1,Rfe8,h4,Qe7,Ka2,c4,d4,Re4,Ne5,Rxh4', 'Ng6,Rxh1,Nxe7+,Rxe7,Qxh1', 'https://lichess.org/training/6LgSQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6llxY', 'Rapid', 'Samuel268', 2009, 'JoachimDa', 2337, 'e4,e5,Bc4,f5,exf5,Nf6,Ne2,d5,Bb3,Bxf5,d4,e4,O-O,Bd6,f3,O-O,fxe4,Bxe4,Bf4,c6,Bxd6,Qxd6,Ng3,Bg6,c3,Nbd7,Nd2,Ng4,Qxg4,Nf6,Qd1,Bd3,Re1,Rae8,Qf3,Bg6,Rxe8,Rxe8,Nf5,Qe6,Nh4,Bh5,Qf5', 'Qe3+,Qf2,Qxf2+,Kxf2,Re2+,Kg1,Rxd2', 'https://lichess.org/training/6llxY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6lMzy', 'Rapid', 'KekeKeremke', 1732, 'konvpalto', 1679, 'e4,c5,Nf3,Nc6,Bc4,e6,e5,d5,exd6,Bxd6,O-O,Ne5,Nxe5,Bxe5,Qf3,Qc7,h3,Nf6,Re1,O-O,Nc3,a6,Ne4,b5,Bd3,Bb7,c4,Rfd8,Nxf6+,Bxf6,Be4,Bxe4,Rxe4,Rd7,Rg4,Rad8,Qxf6,g6,d3,Rxd3,g3,Rd1+,Kg2,Qc6+,f3,Qd6,Bh6', 'Qd2+,Bxd2,R8xd2#', 'https://lichess.org/training/6lMzy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6lnYp', 'Rapid', 'nasr921', 2000, 'Ze_Cabbaginator', 2034, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Bc4,e6,Nf3,c5,Be3,cxd4,Bxd4,Nc6,Bb5', 'Qa5+,Bc3,Qxb5', 'https://lichess.org/training/6lnYp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6lOAw', 'Classical', 'kimuu', 1715, 'derechte777', 2023, 'd4,e6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,d5,e3,Nc6,h3,Nf6,Bb5,Bd7,Qe2,Ne4,Nxe4,dxe4,Nd2,Nb4,Bxd7+,Qxd7,Qc4,a5,a3,Nd5,Nxe4,b6,Qe2,O-O,Qg4', 'f5,Qh4,fxe4', 'https://lichess.org/training/6lOAw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6LOOB', 'Rapid', 'sverhrasum', 2000, 'Resurrected_Alpha', 2072, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Bb4,e3,h6,Bh4,g5,Bg3,Ne4,Ne2,dxc4,Qa4+,Nc6,a3,Bxc3+,Nxc3,Nxg3,hxg3,Bd7,Qxc4,Qf6,Ne4,Qg6,Bd3,f5,Nc5,O-O-O,O-O,Na5,Qc3,b6,Ba6+,Kb8,b4,bxc5,bxa5,Ka8,Qxc5,e5,Qd5+,Bc6,Qxe5,Bxg2,Kxg2,Qxa6,Qxf5,Rhf8,Qe4+,c6,Rfc1,Rd5,Qe6,Rdf5,Qxc6+,Qxc6+,Rxc6,Rxf2+,Kh3,h5,Rh6,h4,gxh4,gxh4,Rxh4,R2f3+,Kg2,Rxe3,Rd1,Rxa3,d5,Rxa5,d6,Rg5+,Kh3,Rd8,d7,Kb7,Rc4,Rg7', 'Rb1+,Ka8,Rc8+,Rxc8,dxc8=Q#', 'https://lichess.org/training/6LOOB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6lpbq', 'Classical', 'Leksha_Yankov', 1627, 'Aquadomechamp138', 1652, 'd4,g6,d5,d6,e4,Bg7,c4,e6,Ne2,Ne7,Bg5,O-O,Nbc3,Nd7,g3,c5,Nb5,Qa5+,Nec3,Bxc3+,bxc3,Qb6,Bxe7,Re8,Bxd6,a6,Nc7,Qxd6,Nxa8,exd5,cxd5,Rxe4+,Be2,Ne5,O-O,Bh3,Re1,f5,Bf1', 'Rxe1,Qxe1,Nf3+,Kh1,Nxe1', 'https://lichess.org/training/6lpbq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6lqDy', 'Rapid', 'Wk-Exus', 1924, 'p-wnattack', 2089, 'Nf3,d5,d4,Nf6,c4,c6,Nc3,Bg4,Bg5,Nbd7,e3,e6,h3,Bxf3,Qxf3,Be7,cxd5,exd5,Bd3,O-O,O-O,Ne8,Bxe7,Qxe7,e4,dxe4,Bxe4,Ndf6,Rfe1,Nxe4,Nxe4,Nd6,Qg4,Nxe4,Rxe4,Qd6,Rae1,Rad8,R1e3', 'f5,Qf4,fxe4,Qxd6,Rxd6', 'https://lichess.org/training/6lqDy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6lr55', 'Rapid', 'Yersinia_Pestis', 1714, 'KANALI', 1659, 'd4,d5,Nf3,Nc6,e3,a6,c4,Nf6,Nc3,e6,Bd2,Bd7,Rc1,Be7,cxd5,Nxd5,Bd3,O-O,Nxd5,exd5,O-O,Bg4,h3,Bh5,a3,Qd6,Be2,Qg6,Ne5,Bxe2,Nxc6,bxc6,Qxe2,Bd6,Rxc6,Bh2+,Kxh2,Qxc6,Rc1,Qd6+,g3,f5,Bb4,Qe6,Bxf8,Rxf8,Qf3,c6,Rc3,Rb8,b4,g6,Qf4,Re8,Qc7,Qe4,Qxc6,Re6,Qa8+,Kg7,Rc7+,Kh6,Qf8+,Kg5,h4+,Kg4,Qh6,Kf3,h5,Kxf2,Qf4+,Qxf4,exf4,Re3,Rc2+,Kf3,hxg6,hxg6,a4,Kg4,b5,axb5,axb5,Rxg3', 'Rg2,Rxg2+,Kxg2', 'https://lichess.org/training/6lr55');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6LXV1', 'Classical', 'AgentRX', 1875, 'BCS2512', 1670, 'd4,e6,c4,c5,Nf3,d6,e4,Be7,d5,e5,Be2,Nf6,Nc3,Qa5,Bd2,Qb6,b3,Bd7,O-O,Qd8,a4,Na6,Nb5,Nxe4,Bd3,Nf6,Ng5,Bg4,f3,Bh5,Ne4,Bg6,Qc2,Nb4,Bxb4,cxb4,c5,a6,Nbxd6+,Bxd6,Nxd6+,Kf8,Bxg6,hxg6,Rad1,b6,cxb6,Qxd6,b7,Rb8,Qc8+,Ne8,Rc1,Qb6+,Kh1,Qxb7,Qc5+,Kg8,d6,Rd8,Qxe5,Nxd6,Rfd1,Qb6,Qe7,Kh7,Qh4+,Kg8,Qe7,Kh7,Rc4,Nxc4', 'Qh4+,Kg8,Rxd8+,Qxd8,Qxd8+', 'https://lichess.org/training/6LXV1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6lyU2', 'Blitz', 'Gbemineye', 2060, 'Jesim', 2105, 'd4,Nf6,c4,e6,Nc3,b6,Nf3,d5,Bg5,Bb7,e3,Nbd7,Rc1,dxc4,Bxc4,Be7,O-O,O-O,Re1,a6,a3,c5,Ba2,Rc8,Bb1,Bxf3,Qxf3,cxd4,exd4,Nd5,Bxe7,Nxe7,Ne4,Rxc1,Rxc1,Nd5,Qh5,N7f6,Nxf6+,Nxf6,Qh4,Qd5,h3,Rd8,Kh2,Qd6+,g3,e5,dxe5,Qxe5,Qb4,b5,b3,Qe2,Kg2,g6,Qc3,Kg7,Re1,Qd2,Re3,Qxc3,Rxc3,Rd1,Bd3,Ra1,b4,Nd5,Rb3,Kf6,Be4,Nc7,Rf3+,Ke7,Bb7,f6,g4,h6,Re3+,Kd6,Be4,Rd1,Bxg6,Ne6,Rd3+', 'Rxd3,Bxd3,Nf4+,Kf3,Nxd3', 'https://lichess.org/training/6lyU2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6lzAy', 'Classical', 'Kite2009', 1601, 'Raiel42', 1694, 'd4,e6,c4,f5,Nc3,Nf6,Bg5,d5,cxd5,exd5,Bxf6,gxf6,e3,c6,Bd3,Bd6,Nf3,O-O,Qc2,Kh8,Bxf5,Bxf5,Qxf5,Rg8,Rg1,Nd7,h4,Qe7,g4,Rg7,g5,Rag8,O-O-O,fxg5,hxg5,Bc7,Rh1,Rg6,Rh3,R8g7,Rdh1,Qe8,Qg4,Qf7,Qh5,Bd8,Ne2,Bxg5,Nxg5,Rxg5,Qh6,Qxf2,R1h2,Rg1+,Kd2,Qe1+,Kd3,Qb1+,Kc3,R1g2,Qe6,Nf8,Qf6,Rxh2', 'Qxf8+,Rg8,Qf6+', 'https://lichess.org/training/6lzAy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6LzBu', 'Blitz', 'robinhood17', 2262, 'skinerd6', 2271, 'e4,c5,Nf3,Nc6,b4,cxb4,a3,e6,axb4,Bxb4,c3,Be7,d4,Nf6,d5,Na5,d6,Bf8,e5,Ng8,Bd3,f5,O-O,Nc6,Na3,a6,Nb5,Kf7,Nc7,Rb8,Ng5+,Kg6,f4,h6,Nf3,Kh7,Nd4,g6,g4,Nxd4,cxd4,Qh4,gxf5,gxf5,Kh1,b5,d5,Bg7,Rg1,h5,Qc2,Nh6,Be3,Bb7,Rg5,Ng4,Bd4,Bh6', 'Bxf5+,exf5,Qxf5#', 'https://lichess.org/training/6LzBu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6MAAc', 'Rapid', 'skykhan79', 1650, 'F1C4', 1810, 'd4,e6,g3,d5,Bg2,Nf6,Nf3,Nc6,Nc3,Bb4,Bd2,h6,O-O,a6,Re1,Bd7,e4,dxe4,Nxe4,Bxd2,Nxf6+,Qxf6,Qxd2,O-O-O,Ne5,Nxe5,dxe5,Qf5,Qb4,b6,Be4,Qg5,a4,a5,Qc4,Rdf8,Qa6+,Kd8,Qa8+,Ke7,Qb7,Rc8,Rad1,Rhd8,f4,Qh5,Bf3,Qg6,Rxd7+,Kxd7,Rd1+,Ke7,Rxd8,Kxd8,Qc6,h5,Kg2,h4,g4,Qh7,Kh3,Qh8,c4,g6,c5,Qe8,Qe4,Qd7,c6,Qd2,Qc4,Qxb2', 'Qd3+,Ke8,Qd7+,Kf8,Qxc8+', 'https://lichess.org/training/6MAAc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6mDEX', 'Rapid', 'ksthp0', 1832, 'kyouma4', 1840, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,Qa5,Nb3,Qc7,h3,g6,g4,Bg7,Qd2,a6,O-O-O,b5,f3,Bb7,h4,Ne5,Be2,b4,Nd5,Nxd5,exd5,a5,h5,Rc8,hxg6,fxg6,Bb5+,Kf8,Kb1,Nxf3,Qf2,Bf6,Qxf3', 'Qxc2+,Ka1,Qxb2#', 'https://lichess.org/training/6mDEX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6MDxT', 'Rapid', 'mila11', 1695, 'nandi007', 1695, 'e4,g6,d4,Bg7,c3,d6,Nf3,f5,exf5,Bxf5,Bd3,Bxd3,Qxd3,Nf6,Ng5,O-O,Ne6,Qd7,Nxf8,Bxf8,Bg5,Nc6,Nd2,Bg7,O-O,Rf8,Rae1,Qg4,Bxf6,Bxf6,Re4,Qf5,Qf3,Qb5,Nb3,Bxd4,Nxd4,Nxd4,Qe3,Nc6,b3,e5,c4,Qa5,a4,Nd4,Rb1,c5,h4,Qc7,h5,Rf6,Qg5,Qf7,hxg6,Rxg6,Qe3,Nf3+,Kf1,Nh2+,Ke2,Rxg2,Rh1,Qh5+,Kd3,Qf5', 'Rxh2,Rxh2,Qg3+,Kf7,Qxh2,Qf3+,Re3', 'https://lichess.org/training/6MDxT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Me96', 'Rapid', 'SRAI4', 1610, 'renebu', 1644, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Nf6,Nf3,e6,Bf4,a6,e3,Nc6,a3,Bd6,Bxd6,Qxd6,Bd3,O-O,O-O,Re8,Re1,e5,dxe5,Nxe5,Nxe5,Rxe5,f4,Rh5,Qf3,Bg4,Qg3,Re8,Be2,Bxe2,Rxe2,Ne4,Nxe4,dxe4,Qg4,Rd5,h3,Rd1+,Rxd1,Qxd1+,Kh2', 'f5,Qxf5,Qxe2', 'https://lichess.org/training/6Me96');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6mGJj', 'Bullet', 'doash', 1948, 'WellingtonJ', 1937, 'd4,c5,d5,d6,Nc3,e5,e4,f5,exf5,Bxf5,Nge2,Nf6,Ng3,Bg6,h4,Be7,h5,Bf7,Bd3,O-O,Nf5,Nbd7,g4,Nb6,g5,Nfxd5,Nxd5,Bxd5,g6,Bxh1,gxh7+,Kh8,h6,g6,Qg4,Rf6,Nxe7,Qxe7,Bg5,Qf7,Bxf6+,Qxf6,Bxg6,Bf3,Qg3,Rf8,Bf5,e4,Be6,Nc8', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/6mGJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Mhmf', 'Blitz', 'Fubbyb', 1747, 'yasin1848', 1794, 'e4,e5,Nf3,d6,Bc4,f6,Nc3,Nc6,O-O,Bg4,h3,Bh5,Nxe5,Bxd1', 'Bf7+,Ke7,Nd5#', 'https://lichess.org/training/6Mhmf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6mMiK', 'Classical', 'basstianx', 1750, 'Herbadillo', 1755, 'e4,g6,g3,Bg7,Bg2,Nf6,d3,e5,Bg5,c6,Qd2,Qb6,b3,d5,Bh6,Bxh6,Qxh6,Ng4,Qd2,d4,h3,Nf6,Nf3,Nbd7,O-O,a5,c3,c5,Na3,dxc3,Qxc3,Qb4,Qxb4,axb4,Nc4,b5,Ncxe5,Nb6,Nh2,O-O,f4,Re8,Neg4,Nfd7,Rfd1,Kg7,e5,Ra6,Bc6,c4,Bxb5,Ra5,dxc4,Re6,Bxd7,Nxd7,Rd5,Nc5,Nf2,Bb7,Rd6,Re8,Nf1,Rea8,Rd2', 'Nxb3,axb3,Rxa1', 'https://lichess.org/training/6mMiK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6mMyU', 'Rapid', 'ichWamboo', 1737, 'vitaly_236', 1668, 'e4,e5,Nf3,d6,d4,f6,Bc4,Qd7,O-O,g5,Nxg5,fxg5,Qh5+,Kd8,Bxg5+,Be7,dxe5,Bxg5,Qxg5+,Qe7,Qh5,Be6,Bxe6,Qxe6,exd6,cxd6,Nc3,Qg6,Qd5,Nc6,Rad1,Nge7,Qxd6+,Qxd6,Rxd6+,Kc7,Rfd1,Rad8,e5,Nf5,Nb5+,Kb6,Rxd8,Rxd8,Nd6,Nxd6,exd6,Nb4,c3,Na6,f4,Kc6,b4,Rxd6', 'b5+,Kd7,Rxd6+,Kxd6,bxa6', 'https://lichess.org/training/6mMyU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6MNGg', 'Rapid', 'argymc', 1855, 'Siam', 1905, 'd4,d5,Nf3,a6,c4,e6,Nc3,Nf6,e3,c5,Be2,Nc6,cxd5,exd5,O-O,h6,Qc2,c4,Rd1,b5,a3,Qc7,e4,dxe4,Nxe4,Bf5,Nd6+,Bxd6,Qxf5,O-O,Bxh6,Ne7,Qg5,Ne8,Qg4,Ng6,Bg5,Nf6,Bxf6,gxf6,Nh4,Kg7,Nf5+,Kg8,Qh5,Bf4,g3,Bg5,d5,Qe5,Bg4,Rae8,Re1,Qxb2,h4,Bd2,Rxe8', 'Qxa1+,Kg2,Rxe8', 'https://lichess.org/training/6MNGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6mnuI', 'Blitz', 'Kazantsew', 2324, 'FM DrBoki', 2342, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Nf3,Nbd7,Be2,Bd6,cxd5,exd5,O-O,O-O,a3,Re8,b4,Nf8,b5,Ng6,bxc6,bxc6,Qa4,Bd7,Qa6,Ne4,Na4,Nh4,Rb1,Rc8,Rb7,Bg4,Nxh4,Qxh4,g3,Nxg3,hxg3,Bxg3,fxg3,Qxg3+,Kh1,Re6,e4,Rxe4,Rbxf7,Bf3+,Bxf3', 'Rh4#', 'https://lichess.org/training/6mnuI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Mnwf', 'Classical', 'Velociraptor35', 1683, 'Alfred6', 1844, 'e4,d6,c3,Nf6,d3,g6,Nf3,Bg7,Be2,O-O,O-O,e5,Re1,Nc6,Bg5,h6,Bxf6,Qxf6,d4,Bg4,d5,Ne7,Qb3,b6,Na3,c6,c4,c5,Nb5,a6,Nc3,Rab8,Na4,Nc8,Qc3,b5,cxb5,axb5,Nxc5,dxc5,Qxc5,Nd6,h3,Nxe4,Qe3,Bxf3,Bxf3,Nd6,b3,Rfe8,g3,Rbd8,Bg2,e4,a4,bxa4,Rxa4,Nf5,Qe2,Nd6,Ra6,Qe5,Ra5,Nf5,Ra4,Nd4,Qxe4,Qxd5,Qxd5', 'Rxe1+,Kh2,Rxd5', 'https://lichess.org/training/6Mnwf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6MOAd', 'Rapid', 'Artur19930108', 1922, 'Ricky_Villas', 1942, 'f4,d6,Nf3,Nc6,e3,e5,d4,f6,Bc4,Nh6,fxe5,dxe5,O-O,Bd6,dxe5,Bxe5,Nxe5,Qxd1,Rxd1,Nxe5,Bb3,Nhf7,Nc3,O-O,Ne4,Kh8,Ng3,c6,e4,Bg4,Rf1,Rad8,Bf4,Ng6,Be3,b6,h3,Bc8,Nh5,c5,Rad1,Ba6,c4,Rde8,Ng3,Bb7,Bc2,Nfe5,Nf5,Nxc4,Bc1,Bxe4,Bb3,Nxb2', 'Bxb2,Bxf5,Rxf5', 'https://lichess.org/training/6MOAd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6MOqc', 'Blitz', 'franpit', 1710, 'LigneVauban', 1651, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Ne7,Nc3,Nec6,Be3,Nxd4,Bxd4,Nc6,Bb5,Bd7,O-O,Nxd4,Bxd7+,Qxd7,Qxd4,b6,e5,O-O-O,Qe4,Kb8,a4,d5,Qf4,a5,Rfd1,c6,Ne4,Kb7,Ng5,f6,e6,Qd6,Qxd6,Bxd6,Nf7,Rhf8,Nxd8+,Rxd8,Re1,Be7,f4,g6,g4,f5,g5,Rh8,h4,h6,Kg2,hxg5,hxg5,Rh4,Rf1,Rg4+,Kf3,Bd6,Ke3,Rg3+,Rf3,Rg2,Rc1,Bc5+,Kd3,Be7,b3,Ba3,Re1,Bb4,e7', 'Rd2+,Ke3,d4#', 'https://lichess.org/training/6MOqc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6mplX', 'Blitz', 'Fouche69', 2341, 'NM esrosenberg', 2245, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Nd5,Ne4,f5,Nec3,Nf4,O-O,Nxd3,cxd3,Bd6,Qh5+,g6,Qh6,Qf6,Re1,Be6,Na3,O-O-O,Qe3,Kb8,b4,Nb7,b5,Bc5,Qxe5+,Qxe5,Rxe5,Rhe8,bxc6,Bd4,Rxe6', 'Rxe6,c7+,Kxc7', 'https://lichess.org/training/6mplX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Mqng', 'Classical', 'loveangela', 2001, 'Dr_Sacrifice', 1999, 'e4,g6,d4,Bg7,Nc3,a6,Be3,b5,Qd2,Bb7,f3,e6,Bd3,h6,Nge2,Ne7,a3,Kf8,h4,d6,h5,g5,g4,e5,d5,Nd7,Ng3,c5,Kf2,Kg8,a4,b4,Nce2,a5,Ng1,Kh7,Nh3,Qc7,Nxg5+,hxg5,Bxg5,f6,h6,Bf8,Bh4,Rg8,g5,fxg5,Bxg5,Ng6,Nf5,c4,Bf1,Nc5,Qe3,Qf7,Bxc4,Rc8,b3,Re8,Ng7,Rc8,Rag1,Nxa4,Qa7,Nc5,Ke3,Be7,Ne6,Bxg5+', 'Nxg5+,Kh8,Nxf7+', 'https://lichess.org/training/6Mqng');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6mQX4', 'Blitz', 'franciscom', 1587, 'Mistborn2', 1860, 'e4,e6,f4,d5,exd5,exd5,d4,b6,Nf3,c5,c3,c4,b3,b5,b4,Bf5,Be2,Nf6,Ne5,Be7,O-O,O-O,Rf3,Nbd7,Rg3,Nxe5,fxe5,Ne4,Rf3,Bg4,Rf1,Bxe2,Qxe2,a5,Qg4,axb4,cxb4,Ra6,a3,Bxb4,Bh6,Rxh6,axb4,Rg6,Qf3,Qg5', 'Qxf7+,Rxf7,Ra8+,Qd8,Rxd8+,Rf8,Rfxf8#', 'https://lichess.org/training/6mQX4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6mqyw', 'Classical', 'Nomad_Chess', 1960, 'DrHammarat', 2130, 'Nf3,Nf6,c4,e6,d4,d5,Nc3,c5,g3,Nc6,Bg2,dxc4,O-O,cxd4,Nb5,e5,Qa4,Bd7,Qxc4,Na5', 'Nc7+,Qxc7,Qxc7', 'https://lichess.org/training/6mqyw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6mrRZ', 'Blitz', 'Draculesti', 1802, 'atlegang', 1793, 'd4,c5,d5,Nf6,c4,b5,cxb5,d6,Nc3,Nbd7,e4,Ne5,b3,e6,dxe6,Bxe6,Bb2,Qb6,Nf3,Nxf3+,Qxf3,Be7,e5,O-O,exf6,Bxf6,Bd3,Rad8,O-O,d5,a4,c4,bxc4,dxc4,Bc2,Rd2,Rac1,a6,Ba1,axb5,axb5,Ra8,Qe4,Ra7,Qxh7+,Kf8,Be4,Rxa1,Rxa1,Bxc3,Ra8+,Ke7,Qh4+,f6,Qh8', 'Qxf2+,Rxf2,Rd1+,Rf1,Bd4+,Kh1,Rxf1#', 'https://lichess.org/training/6mrRZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6mtZi', 'Blitz', 'NeilYkakade2007', 1954, 'FM Konek_Gorbunok', 2344, 'e3,d5,d4,Nf6,Bd3,c5,c3,Nc6,Nf3,Bg4,Nbd2,e5,dxe5,Nxe5,Bb5+,Nfd7,h3,Nxf3+,Nxf3,Be6,Ne5,Be7,Qa4,a6,Bxd7+,Bxd7,Nxd7,Qxd7,Qxd7+,Kxd7,O-O,Bf6,Rd1,Kc6,Bd2,Rad8,Be1,Rhe8,Kf1,Kc7,Ke2,Rd7,f3,Red8,Bf2,Kb8,Rd2,d4,cxd4,cxd4,e4,d3+,Kf1,Bg5,Rdd1,d2,g3,Rc8,f4,Bd8,Ke2,Rc2,Rab1,Ba5,b4,Bc7,a4,a5,b5,b6,Be3,Bd6,Bxb6,Bb4,Be3,Ra2,e5,Rxa4,Bxd2', 'Ra2,Rxb4,axb4', 'https://lichess.org/training/6mtZi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6mu7S', 'Rapid', 'a1392', 1923, 'sezginonline', 2264, 'c4,e5,g3,Nc6,Bg2,d6,d3,Be6,Nf3,Qd7,Nc3,Bh3,O-O,h5,Nd5,Bxg2,Kxg2,h4,Nxh4,Be7,Nf3,Qh3+,Kg1,Nd4,Re1,Nxf3+,exf3,Qxh2+,Kf1,O-O-O,Qa4,Kb8,Be3,a6,b4,c6,b5,cxd5,bxa6,Qh3+,Ke2,Qd7,Qb3,d4,Bd2,Ka7,Ba5,Qc6,Rab1,Qxa6,Qa4,Qc6,Bb6+,Kb8,Qa7+,Kc8,Rb2,Kd7', 'Bxd8,Bxd8,Rxb7+', 'https://lichess.org/training/6mu7S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6MYeF', 'Classical', 'Makkinly', 1612, 'moizes', 1695, 'e4,c5,Nc3,e6,Nf3,d6,d3,Nc6,a3,a5,Nb5,Nf6,g3,Be7,Bg2,O-O,O-O,Bd7,Nh4,Qb6,a4,Ne5,c4,d5,Bf4,Nc6,exd5,exd5,cxd5,Nxd5,Bxd5,Bxh4,gxh4,Ne7,Bc4,Qg6+,Bg3,Nf5,Qf3,Nxh4,Qxb7,Bc6,Qb6,Nf3+,Kh1,Nd2+,Kg1,Nxf1,Kxf1', 'Bg2+,Kxg2,Qxb6', 'https://lichess.org/training/6MYeF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6myNw', 'Rapid', 'Eden65', 1865, 'COMET1to1000', 1898, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,c5,e5,Bg4,Be2,Nc6,Bb2,O-O,O-O,Qb6,Qb3,cxd4,Qxb6,axb6,cxd4,Rfd8,Rfd1,Ra4,h3,Bxf3,Bxf3,Nxd4,Bxb7,Bxe5,Bxd4,Rdxd4,Rxd4,Bxd4,Rd1,Bc5,Bd5,Kg7,Bb3,Rf4,Rf1,Kf6,g3,Rf3,Kg2,Rc3,f3,Rd3,g4,Bd6,Rf2,e6,Rc2,Ke5,Re2+,Kd4,Re4+,Kc3,Rc4+,Kb2,Rc2+,Ka3,Kf2,Bc5+,Ke2,Re3+,Kf1,Rxf3+,Kg2,Re3,g5,Re5,h4,Re4,Kh3,Rf4,Rc3,Kb4,Rd3,Rd4,Rf3,Rd7,Rf4+,Kb5', 'Ba4+,Ka6,Bxd7', 'https://lichess.org/training/6myNw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6MzYd', 'Blitz', 'gsmah13', 2267, 'murkeza', 2222, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,d6,f4,c5,Qd1,Nc6,c4,O-O,cxb5,axb5,Nc3,Nd4,e5,Bg4,Qd3,Nxb3,exf6,Qxf6,Be3,Nxa1,Rxa1,Bf5,Qd2,Qe6,Nxb5,Rxa2,Re1,Qf6,Qxd6,Qxb2', 'Qxf8+,Kxf8,Bxc5+,Kg8,Re8#', 'https://lichess.org/training/6MzYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6N0vm', 'Blitz', 'Joko1', 1808, 'Muratcan67', 1824, 'e4,c5,c3,Nf6,e5,Nd5,d4,Nc6,dxc5,Nxe5,Nf3,Nxf3+,Qxf3,e6,b4,Be7,Bc4,O-O,Bxd5,exd5,Qxd5,a5,O-O,axb4,cxb4,Bf6,Bg5,Bxg5,Nc3,Bf6,Rac1,Bxc3,Rxc3,Qf6,Rf3,Qb2,Re1,Rxa2', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/6N0vm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6N2rG', 'Rapid', 'EvG989T', 1843, 'Ciossef', 1861, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Nc6,d4,Bf5,O-O,Nf6,c3,e6,Bg5,Bd6,h3,Qc7,Bxc6+,bxc6,Nbd2,c5,Re1,Ne4,Nxe4,Bxe4,Nd2,Bd3,dxc5,Bxc5,Nb3,Be4,Be3,Bd6,f3,Bf5,Nd4,Bg6,Nb5,Qc6,Nxd6+,Qxd6,c4,O-O,b4,Qxb4,cxd5,exd5,Qxd5,Rad8,Qg5,Rfe8,Red1,f6,Qc5,Rxd1+,Rxd1,Qxc5,Bxc5,a6,Rd6,Rc8,Bb4,Rc4,a3,Rc1+,Kh2,Rc2,Rxa6,Bh5,Kg3,g5,Rxf6,Kg7,Rd6,Bf7,Rd2,Rc4,Rb2,Kg6,a4,h5,a5,Rc6,Be7,h4+,Kh2,Ra6,Bd8,Kf5,Rb5+,Kg6,Rxg5+,Kh6,Rb5,Bc4,Rc5,Bf7,Rb5,Kg7,Bb6,Kg6,Rc5,Kg7,Rc7,Kf6,Rc6+,Ke5,Rh6,Bc4,Bd4+,Kxd4,Rxa6,Bxa6,g3,Ke3,gxh4,Kxf3', 'h5,Bd3,h6,Kf4,a6', 'https://lichess.org/training/6N2rG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6N2SO', 'Rapid', 'PaulZibert1', 1866, 'Rodanik', 1864, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,b3,Bd7,Bd3,cxd4,cxd4,Nxd4,Be3,Bb4+,Nbd2,Nxf3+,Qxf3,d4,Bf4,Ne7,a3,Bc3,Rc1,Nd5,O-O,Nxf4,Qxf4,Bxd2,Qxd2,Qxb3,Rc4,O-O,Rxd4,Bc6,Rh4,h6,Qe3,Qd5,Be4,Qc4', 'Bh7+,Kxh7,Rxc4', 'https://lichess.org/training/6N2SO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6n7u4', 'Rapid', 'Benedikt089', 1753, 'Kocke', 1748, 'e4,c5,Nf3,a6,c3,e6,d4,Qc7,Bd3,Nc6,O-O,Bd6,e5,Be7,Re1,d6,exd6,Bxd6,dxc5,Bxc5,Be3,Bd6,Nbd2,b6,Be4,Nh6,Bxh6,gxh6,Nc4,Be7,Qd2,b5,Ne3,Bb7,Ng4,h5,Ne3,Bd6,Rad1,O-O-O,Qc2,f5,Bxc6,Qxc6,b3,Rhg8,Kf1,Rg7,c4,Rxg2,Kxg2,Qxf3+,Kf1,f4,cxb5+,Kb8,Nc4,Qg2+,Ke2,Bf3+,Kd3,Bb4+,Nd6,Rxd6+,Kc4,Bxd1,Rxd1,Rxd1,Qxd1,Qd5+', 'Qxd5,exd5+,Kxb4', 'https://lichess.org/training/6n7u4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6NBkk', 'Blitz', 'GM Glek_Igor', 2636, 'Tandilensis', 2592, 'e4,c5,f4,g6,Nf3,Bg7,c3,Nc6,Bb5,Nh6,O-O,O-O,d3,d6,Qe1,Bd7,f5,Ne5,Bxd7,Nxd3,Qd1,Nxc1,Ba4,Qa5,Bc2,Nxa2,Bb3,Qb6,Bxa2,c4+,Kh1,Qxb2,Nbd2,Bxc3,Nxc4,Qxa1,Qe2,Qxf1+,Qxf1,b5,Ne3,b4,Nd5,Ng4,fxg6,hxg6,h3,Nf6,Nxe7+,Kg7,Ng5,a5,Nd5,Nxd5,Bxd5,Rab8,Bb3,a4,Bxa4,b3,Qc4,b2,Qxc3+,Kh6,Bc2,b1=Q+,Bxb1,Rxb1+,Kh2,Kxg5,Qd2+,Kf6,Qxd6+,Kg7,e5,Rbb8,Qf6+,Kh6,Kg3,Rbe8,Kh4,Re6,Qg5+,Kg7,Kg4,Rh8,Kf4,Rh5,Qd8,Rf5+,Kg3,Rfxe5,Qd4,Kh6,Kh2,Re2,h4,R2e4', 'Qh8#', 'https://lichess.org/training/6NBkk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6nbvh', 'Rapid', 'viesma', 2136, 'rurpi', 2013, 'e4,g6,d4,Bg7,Be3,d6,Qd2,Nc6,Bc4,a6,a3,b5,Ba2,Nf6,f3,h6,Ne2,Bb7,Nbc3,b4,axb4,Nxb4,Bb3,Nd7,Nd1,c5,Nf2,Nc6,c3,a5,O-O,cxd4,cxd4,Nb4,Rfc1,d5,e5,e6,Ba4,Kf8,Nf4,Kg8,N4d3,Nxd3,Nxd3,Kh7,Bxd7,Qxd7,Nc5,Qb5,Nxb7,Qxb7,Rxa5,Rxa5,Qxa5,Qxb2,Qc7,Rf8,h3,h5,Rc2,Qb4,Qc5', 'Qe1+,Kh2,Qxe3', 'https://lichess.org/training/6nbvh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ncwP', 'Blitz', 'dirjen_88', 1964, 'WFM bobbyyy67', 2260, 'e3,Nf6,Qe2,g6,b3,Bg7,Bb2,O-O,d4,c5,Nd2,cxd4,exd4,d6,O-O-O,Nc6,h3,a5,g4,a4,g5,Nd5,c4,Ndb4,a3,Na6,Ndf3,axb3,Qd3,Bf5,Qxb3,b5,cxb5,Na5,Qa2,Rc8+,Kd2,Rc2+,Ke1,Nc7,Bd3,Bxd3,Rxd3,Nxb5,Ne2,Qa8,h4,Rfc8,Rh3,Qe4,Nd2,Rc1+,Bxc1', 'Rxc1#', 'https://lichess.org/training/6ncwP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6NFRx', 'Blitz', 'CccLllZzz_15_07_22', 2088, 'CM HrvojeZagreb', 2299, 'e4,c5,Nf3,g6,c4,Bg7,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,d6,Be2,O-O,O-O,Bd7,Rc1,Nxd4,Bxd4,Bc6,f3,Nd7,Be3,Qa5,Qd2,Rac8,Nd5,Qd8,Rfd1,Bxd5,exd5,a6,b4,Ne5,c5,f5,c6,Qc7,f4,Ng4,a4,Nxe3,Qxe3,bxc6,Rxc6,Qb8,Rxc8,Qxc8,Qxe7,Qc2,a5,h6,Rf1,Qd2,Qe6+,Kh7,Bxa6,Qxb4,Bd3', 'Qd4+,Kh1,Qxd3', 'https://lichess.org/training/6NFRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6NHe9', 'Blitz', 'ahimsa64', 2167, 'mosayeb1204', 2229, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Nxe4,Qxd4,Nf6,Nc3,Be7,Bg5,c6,O-O-O,d5,Rhe1,O-O,Bd3,Be6,Qh4,h6,Bxh6,gxh6,Qxh6,Re8,Rxe6,fxe6,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/6NHe9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Nhhz', 'Rapid', 'bcacoachglenn38', 1899, 'Sfide_Mentali', 2098, 'd4,Nf6,Nc3,d5,Bf4,Bf5,f3,e6,g4,Bg6,h4,h5,g5,Ng8,e3,c6,Bd3,Bf5,e4,Bg6,Nge2,Bb4,Be3,Ne7,a3,Ba5,b4,Bc7,O-O,dxe4,fxe4,e5,Qe1,Qd7,Rf2,Qg4+,Rg2,Qh3,Qf2,O-O,Rf1,exd4,Nxd4,Nd7,Nf5,Rfe8,Bd4,Ne5,Be2,Rad8,Rg3,Ng4,Bxg4,Bxg3,Bxh3,Bxf2+,Bxf2,Rd2,Bxa7,Rxc2,Na4,Ra2,Bc5,Nc8,Rf3,Rxe4,Ng3,Rxh4,Bxc8,Rc4,Nb6,Rcc2,Nf1', 'Rg2+,Kh1,Be4', 'https://lichess.org/training/6Nhhz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6nKI9', 'Classical', 'rencber', 1906, 'VovanDis', 2103, 'd4,Nf6,c4,d6,Nc3,g6,e4,Bg7,f4,Nbd7,h3,b6,e5,dxe5,fxe5,Nh5,Be2,Ng3,Rh2,Nxe2,Qxe2,Bb7,Nf3,e6,Be3,Bxf3,Qxf3,Nxe5', 'dxe5', 'https://lichess.org/training/6nKI9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6nlgc', 'Rapid', 'Flop14', 1627, 'loggik', 1835, 'Nf3,c5,e4,e6,c3,d5,exd5,exd5,d4,Nf6,Bg5,Be7,Be2,O-O,O-O,Nc6,h3,Ne4,Bxe7,Qxe7,Nbd2,cxd4,Nxe4,dxe4,Nxd4,Nxd4,Qxd4,Rd8,Qe3,b6,Rfd1,Bb7,f3,f5,fxe4,Bxe4,Bf3,h6,Bxe4,Qxe4,Qxe4,fxe4,Rxd8+,Rxd8,Re1,Rd2,b3,Rxa2,Rxe4,Ra3,Rb4,Kf7,Kf2,Ke6,Ke3,Kd5,Kd3,Kc5,g4,a5,Rc4+,Kb5,b4,a4,Rf4,Ra1,Rf5+,Ka6,b5+,Ka5,Kc4,a3,Kb3,a2,c4,Rh1,Kxa2,Rxh3,Rf4,Kb4,Kb2,Rc3', 'c5+,Kxb5,Kxc3', 'https://lichess.org/training/6nlgc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6NmIk', 'Rapid', 'Pilot100', 2119, 'Seeker1', 2093, 'e4,e6,Nc3,d5,Nf3,dxe4,Nxe4,Bd7,d4,Bc6,Bd3,Nd7,c4,Ngf6,Qe2,Nxe4,Bxe4,Bxe4,Qxe4,c6,Bg5,Qa5+,Bd2,Qb6,Bc3,Nf6,Qf4,Be7,O-O,O-O,Rfe1,a5,d5,cxd5,Qg3,dxc4,Ne5,Qc7,Rad1,b5,Qe3,Nd5,Rxd5,exd5,Ng4,Rfe8,Be5,Qd7,Nh6+,gxh6,Qxh6,Bf8', 'Qg5+,Bg7,Qxg7#', 'https://lichess.org/training/6NmIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6NMwr', 'Rapid', 'federer', 1856, 'Thierry_Paris', 1770, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e5,Nf3,Be6,Nd5,Be7,Nxe7,Qxe7,Bd3,O-O,O-O,Nc6,h3,h6,Bh4,g5,Bg3,Rad8,Re1,Nh5,Bh2,Nf4,Qd2,Nxd3,cxd3,f5,exf5,Bxf5,d4,Bxh3,dxe5,Nxe5,Nxe5,dxe5,Qe3,Bd7,Bxe5,Qf7,Qg3,Bc6,Bc3,Kh7,Rad1,Qf4,Re7+,Kg6,Rg7+,Kh5', 'Qh3+,Qh4,g4#', 'https://lichess.org/training/6NMwr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Nph5', 'Rapid', 'CM trollonga', 2203, 'blixtodunder', 2308, 'Nf3,g6,e4,Bg7,d4,d6,Nc3,a6,a4,b6,Be3,Nd7,Qd2,h6,h3,e6,Be2,Bb7,O-O,Ne7,Rfe1,g5,Nh2,Ng6,Bh5,Nf6,Bxg6,fxg6,d5,e5,a5,b5,b4,Nh5,g3,Bc8,Kg2,Qd7,Ng4,Nf6,Nxf6+,Bxf6,Rh1,O-O,Ne2,Qf7,Raf1,Bd7,f3,Rac8,h4,Qe7,hxg5,Bxg5,Bxg5,hxg5,Rh6,Kg7,Rfh1,Rh8,Rxh8,Rxh8,Rxh8,Kxh8,Qe3,Qd8,f4,gxf4,gxf4,exf4,Qxf4,Kg7,Nd4,Qf6,Qxf6+,Kxf6,Kf3,g5,Ke3,Ke5,c3,g4,Ne2,c6,Nf4,g3,Ng6+,Kf6,dxc6,Bxc6,Nf4,Kg5,Kf3,Kh4,Ng6+', 'Kh3,Nf4+,Kh2,Ne2,g2', 'https://lichess.org/training/6Nph5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6npUC', 'Rapid', 'Biket', 2038, 'TuttyFruity007', 2047, 'd4,d5,Nf3,Nf6,Bf4,e6,e3,c5,c3,b6,a4,a5,Nbd2,Bb7,Bd3,Be7,O-O,O-O,Qe2,Nbd7,Ne5,Nxe5,Bxe5,Bd6,Nf3,Bxe5,Nxe5,cxd4,exd4,Ne4,f3,f6,Ng4,Ng5,h4,Nf7,Qxe6,Re8,Qf5,h6,Qh7+,Kf8,Bg6,Qd7,Rfe1,Bc6,b3,Rxe1+,Rxe1,Re8,Rxe8+,Qxe8,Kf2,Bd7,Ne3,Be6,f4,Qc6,c4,dxc4,bxc4,Bxc4,Nf5,Qxa4,Qxg7+,Ke8,Qg8+,Kd7,Bxf7,Qa2+,Kg3,Bxf7,Qb8,Qb3+,Kh2,Ke6,Qc8+,Kd5,Qd7+,Ke4,Nd6+,Kxf4,Qxf7,Qxf7,Nxf7,Ke4,Nxh6,a4,Ng4', 'a3,Nxf6+,Kxd4', 'https://lichess.org/training/6npUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6NqxF', 'Classical', 'Gomorrah', 1861, 'Aapriatna', 1966, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bc4,Nf6,Bd2,Bf5,Nd5,Qd8,Nxf6+,gxf6,Nf3,h5,Bc3,Nd7,Qe2,h4,O-O-O,e6,d5,cxd5,Bxd5,Qb6,Nd4,O-O-O,Nxf5,exf5,Bxf7,Bh6+,Kb1,Nc5,Qc4,Kb8,Bd4,Rc8,Rhe1,Rhd8,b4,Na4,Qxc8+,Rxc8,Bxb6,Nc3+,Kb2,Nxd1+,Rxd1,axb6,Rd6,Bf4,Rxb6,Bxh2,Kb3,Be5,c4,Bd4,Rb5,f4,f3,Rc7,Be6,Re7,Bh3,Re3+,Ka4,Bb2,Ka5', 'Ra3+,Kb6,Bd4+', 'https://lichess.org/training/6NqxF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6nvbt', 'Blitz', 'deadeye017', 1620, 'kamylko', 1636, 'e4,c5,b3,d6,Bb2,Nc6,Bc4,a6,Qf3,b5,Qxf7+,Kd7,Be6+,Kc7,Bxc8,Rxc8,Nf3,Nf6,e5,Nxe5,Nxe5,dxe5,Bxe5+,Kb6,Qe6+,Rc6,Qf5,g6,Qf3,Re6,Nc3,Rxe5+,Ne2,Bg7,O-O,Qxd2,Rad1,Qxe2,Qf4,Qe4,Qg3,Rc8,h3,Rc6,Rde1,Qxe1,Rxe1,Rxe1+,Kh2,Ne4,Qb8+,Ka5,c4,Nxf2,b4+,Kxb4,Qb7,Be5+,g3,Rb6,Qf3,Ng4+,hxg4,Re4', 'Qb3+,Ka5,Qa3#', 'https://lichess.org/training/6nvbt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6nX5N', 'Rapid', 'skchess', 1841, 'lerk', 1845, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bb4,Be3,Nf6,f3,O-O,Be2,d5,Nxc6,bxc6,e5,Nd7,f4,Qa5,Bd2,Nc5,O-O,Bxc3,Bxc3,Qb6,Kh1,Ne4,Be1,f5,Rb1,Ba6,Bxa6,Qxa6,Bb4,Rfb8,a3,Qb6,Qe2,a5,Bd6,Rb7,c4,c5,cxd5,exd5,Qd3,Nxd6,exd6,Qxd6,Qxf5,Rf8,Qg4,Rbf7,g3,d4,Rbd1,Qb6,Qe2,g5,fxg5,Rxf1+,Rxf1,Rxf1+,Qxf1,Qxb2,Qc4+,Kg7,Qxc5,Qc3,Qe7+,Kg6,Qf6+,Kh5,Qh6+,Kg4,Qh4+,Kf3,Qf4+,Ke2,Qe4+,Qe3,Qc2+,Qd2,Qxh7,Qe1+,Kg2', 'Qf1#', 'https://lichess.org/training/6nX5N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6nzFu', 'Rapid', 'Hadipnp', 2109, 'maelic', 2079, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Bd3,dxc4,Bxc4,Bd6,Nf3,Bg4,O-O,O-O,Nc3,Nbd7,Bg5,h6,Bh4,Nb6,Bb3,c6,Ne4,Be7,Re1,Nxe4,Bxe7,Qxe7,Qd3,Nxf2,Kxf2,Qd7,Kg1,Rae8,Ne5,Qc8,Qg6,Be6,Qg3,Bxb3,axb3,a6,Rf1,Qe6,Rf4,Nd5,Rg4,g5,Rf1,f5,Rxg5+,hxg5,Qxg5+,Kh7,Rf3,Rf6', 'Rh3+,Rh6,Rxh6+,Qxh6,Qxf5+,Kh8,Nf7+,Kg7,Nxh6', 'https://lichess.org/training/6nzFu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6O3NL', 'Blitz', 'flinkston', 2174, 'quirozajedrezmate', 2027, 'e4,Nf6,e5,Nd5,Nf3,d6,d4,dxe5,Nxe5,c6,c4,Nb6,Nc3,g6,Qf3,Be6,c5,Nd5,Ne4,Bg7,Ng5,O-O,Nxe6,fxe6,Qg4,Rf5,Bd3,Bxe5,dxe5,Rxe5+,Kf1,Nf6,Qh3,Nbd7,Bf4,Nxc5,Bxe5,Qxd3+,Qxd3,Nxd3,Bc3,Kf7,Ke2,Nf4+,Kf3,N4d5,Rad1,Rf8,g4,g5,Rhe1,h5,gxh5,Nxh5,Kg4,Nhf6+,Kxg5', 'Rg8+,Kh4,Rg4+,Kh3,Nf4#', 'https://lichess.org/training/6O3NL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6o4U2', 'Blitz', 'YT_CRBrianCR', 1911, 'CobraKai23', 2160, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,d6,Nc3,e6,Nf3,Be7,Be3,Nf6,Be2,O-O,Qd2,a6,h3,Qc7,g4,b5,g5,Nd7,h4,Bb7,h5,Nde5,Nh4,b4,Na4,d5,Bb6,Qd7,g6,dxe4,gxh7+,Kh8,Qf4,Kxh7,Rd1,Qc8,Qxe4+,Kh8,Ng6+,fxg6,hxg6+,Kg8,Rh8+,Kxh8', 'Qh1+,Bh4,Qxh4+,Kg8,Qh7#', 'https://lichess.org/training/6o4U2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Obfz', 'Rapid', 'brumia', 1679, 'Mizochessprince', 1961, 'd4,e6,c4,f5,Nc3,Nf6,f3,Be7,e4,fxe4,fxe4,O-O,Nf3,d6,Bd3,Nbd7,O-O,e5,d5,Nc5,Bc2,Bg4,b4,Ncd7,h3,Bh5,Be3,a5,b5,b6,Qe2,Nc5,Rae1,Qd7,a4,h6,Qd2,Kh7,Nh4,g5,Nf5,Bg6,Ng3,Nh5,Nf5,Nf4,g3,Nh5,Kh2,Rf6,Ne2,Raf8,g4,Nf4,Neg3,Bd8,Rf2,Qe8,Ref1,h5,gxh5,Bxh5,Bxf4,gxf4,Rxf4,exf4,Qxf4,Bg6', 'Qh6+,Kg8,Qg7#', 'https://lichess.org/training/6Obfz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6oblU', 'Rapid', 'viasaldivar', 1694, 'El_violador666', 1653, 'd4,Nf6,Bf4,g6,e3,Bg7,Nd2,O-O,c3,d5,Bd3,Nbd7,Qc2,c5,e4,dxe4,Nxe4,cxd4,cxd4,b6,Nf3,Bb7,O-O,Rc8,Qe2,Nd5,Bg3,N7f6,Nxf6+,Bxf6,Rac1,e6,Be4,Qe7,Rfd1,Qb4,a3,Qb3,Be5,Rxc1,Rxc1,Bxe5,Nxe5,Qa4,Qf3,Qxd4,Nd7,Rd8,Rd1,Qxb2,Bxd5,Rxd7,Bxb7,Rxd1+,Qxd1,Qxa3,Qd8+,Kg7,Qd4+,Kg8,h3', 'Qc1+,Kh2,Qc7+', 'https://lichess.org/training/6oblU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6oe4L', 'Classical', 'chak7333', 1744, 'Lopan_Andre', 1686, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nxe5,Bxf2+,Kxf2,Nxe5,Bb3,Qf6+,Ke1,Qh4+,g3', 'Qxe4+,Qe2,Qxh1+', 'https://lichess.org/training/6oe4L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6oi1w', 'Rapid', 'JRekt', 1678, 'niroo', 1683, 'c4,e5,g3,Nf6,Bg2,d5,Nc3,Be6,cxd5,Nxd5,d4,exd4,Qxd4,Nc6,Qa4,Bc5,Nh3,Qd7,Nxd5,Bxd5,Bxd5,Qxd5,O-O,O-O-O,Bf4,Rhe8,e3,h6,Rad1,Qh5,Rxd8+,Rxd8,Bxc7,Kxc7,Nf4,Qf3,Qb3,Rd2,Qxf7+,Kb6,Qb3+,Kc7,Qf7+,Rd7', 'Ne6+,Kd6,Qxf3', 'https://lichess.org/training/6oi1w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Ojix', 'Rapid', 'odinchert', 2029, 'Rachidelaouni', 2022, 'd4,Nf6,c4,Nc6,Nc3,e5,d5,Ne7,e4,Ng6,Be3,Bb4,Bd3,d6,f3,Bxc3+,bxc3,O-O,c5,Nh5,Ne2,Nhf4,Nxf4,Nxf4,O-O,f5,cxd6,cxd6,c4,b6,a4,fxe4,Bxe4,Ba6,Rc1,Rc8,Bxf4,Rxf4,Qd3,h6,g3,Rf7,Rf2,Rfc7,Rfc2,Rc5,Bf5,R8c7,Be6+,Kh8,Kg2,Qe8,Qb3,Qg6,h4,e4,f4,e3,Qxe3,Bxc4,Kh2,Ba6,Rxc5,Rxc5,Rxc5,bxc5,f5,Qf6,Qb3,Qd8,Qc3,Kh7,Bf7,Qd7,Bg6+,Kg8,Qb3,Bb7,a5,Qc7,Qe3,Qd8,Qe6+,Kh8,Qf7,Ba8,a6,Qg8,Qxa7,Qxd5,Qb8+,Qg8,Qxg8+,Kxg8,Be8,d5,Kg1,Kf8,Bd7,Ke7,Bc8,c4,Bb7', 'c3,Bxa8,c2,Kh2,c1=Q', 'https://lichess.org/training/6Ojix');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6oK3m', 'Classical', 'Friedtomatoe', 1811, 'Jinzo21', 1718, 'e4,e6,d4,d5,Nc3,c5,Nf3,Qb6,exd5,cxd4,Qxd4,Bc5,Bb5+,Bd7,Bxd7+,Nxd7,Qxg7,Bxf2+,Ke2,O-O-O,Qxf7,exd5,Qxd5,Re8+,Ne4,Ngf6,Qc4+,Kd8,Bg5,Re7,Bxf6,Nxf6,Rad1+,Ke8,Ng5,Nxe4', 'Qc8+,Qd8,Rxd8#', 'https://lichess.org/training/6oK3m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ol0o', 'Rapid', 'UMMA', 1818, 'SC84', 1805, 'c4,Nf6,e3,e5,d4,exd4,exd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,c5,Ne4,Qe3,Nc6,Be2,Re8,Nc3,Nxc3,Qxc3,Qe7,O-O-O,Qg5+,Kb1,Qxg2,Nf3,Rxe2,d5,Qg6+,Ka1,Ne7,Rhg1,Qh6,Rxg7+,Qxg7,Rg1,Qxg1+,Nxg1,Nxd5', 'Qg3+,Kf8,Nxe2', 'https://lichess.org/training/6ol0o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6oL3Z', 'Rapid', 'farmehr_partovi', 1987, 'Yh1986', 2051, 'd4,d5,c4,e6,Nc3,h6,Nf3,Nf6,Bf4,c6,e3,Bd6,Bg3,O-O,Bd3,Bxg3,hxg3,Nbd7,Qc2,dxc4,Bxc4,b5,Bd3,a5,Ne4,Bb7,Ne5,Nxe5,dxe5,Nxe4,O-O-O,Qg5,Bxe4,Qxe5,f4,Qc7,g4,Rad8,Rxd8,Rxd8,g5,hxg5,fxg5,g6,Qc3,e5,Qc2,c5,Bxg6,fxg6', 'Qxg6+,Qg7,Qe6+,Qf7,Rh8+,Kxh8,Qxf7', 'https://lichess.org/training/6oL3Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6olWU', 'Blitz', 'Gurouk', 1710, 'Igor2001', 1715, 'd4,Nf6,Bg5,e6,e3,d5,c3,c5,Nf3,Nbd7,dxc5,Bxc5,Nbd2,b6,Bb5,O-O,O-O,a6,Bd3,h6,Bh4,Be7,Qc2,Bb7,e4,dxe4,Nxe4,Nxe4,Bxe7,Qxe7,Bxe4,Nf6,Bxb7,Qxb7,Rad1,Rfd8,Ne5,Rd5,Rxd5,Qxd5,f4,Qxa2,Rd1,Rc8,Nc6,Nd5', 'Rxd5,exd5,Ne7+,Kh8,Nxc8', 'https://lichess.org/training/6olWU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6omhZ', 'Blitz', 'HalfRight', 2109, 'g3rm4n', 2244, 'e4,c5,Nf3,e6,g3,a6,Bg2,b5,O-O,Bb7,Re1,d6,d4,Qc7,Nc3,cxd4,Nxd4,Nd7,Be3,Ngf6,Bg5,Be7,h4,h6,Bd2,O-O,a3,Rac8,g4,Ne5,g5,hxg5,hxg5,Nfd7,g6,Nxg6,Qh5,Nde5,f4,Nc4,Rad1,Nxb2,Re3,Nxd1,Rh3,Rfd8,Nd5,exd5', 'Qh7+,Kf8,Qh8+,Nxh8,Rxh8#', 'https://lichess.org/training/6omhZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6OnoU', 'Rapid', 'B0jack82', 2116, 'Jeytonil', 2276, 'e4,d6,Nf3,c6,d4,g6,h3,Bg7,c3,Nd7,Bd3,Ngf6,Be3,O-O,Nbd2,Nh5,O-O,e5,dxe5,dxe5,Bc2,Nf4,Bxf4,exf4,Qe2,Qe7,Rfe1,Ne5,Rad1,g5,Nh2,g4,Nxg4,f3,Nxf3,Nxg4,hxg4,Bxg4,Qe3,Be5,Rd2,Bc7,Qg5+', 'Qxg5,Nxg5,Bf4', 'https://lichess.org/training/6OnoU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6opII', 'Rapid', 'arabian1knight', 1778, 'ramondsb', 1799, 'd4,d5,Nf3,Nf6,h3,Nc6,Nc3,g6,Bf4,a6,e3,Bg7,a3,Bf5,Bd3,Bxd3,Qxd3,O-O,g4,e6,Rg1,Re8,h4,Qd7,g5,Nh5,Nh2,Nxf4,exf4,Nxd4,Ng4,e5,Nf6+,Bxf6,gxf6,exf4+,Kd2,c5,h5,Qf5,Qxf5,Nxf5,hxg6,fxg6,Rad1,Nd4,Rg2,Rad8,Rg4,Ne6,Rh1,Rf8,Rgh4,h5,Rg1,Rxf6,Rxh5,Kf7,Rh7+,Ng7,Na4,Kg8,Rgh1,Nh5,Rxb7,c4,Nc5,d4,Ne4,Re6,Ng5,c3+,bxc3,dxc3+,Kxc3,Rc6+,Kb2,Rd2,Rb8+,Kg7,Rb7+,Kf6', 'Ne4+,Kf5,Nxd2', 'https://lichess.org/training/6opII');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6OS9l', 'Rapid', 'wack1155', 1955, 'rgc123', 1720, 'd4,d5,c4,Bf5,Nc3,e6,cxd5,exd5,Nf3,c6,Bg5,Be7,Bf4,Nf6,Nh4,Be6,e3,Ne4,Nf3,Bf5,Bd3,Qd7,O-O,O-O,Ne5,Qe6,f3,Nf6,Qc2,Bxd3,Qxd3,Nh5,Rae1,Bd6,g4,Nxf4,exf4,Qh6,g5,Qh4,Qf5,c5,Nxd5,cxd4,Re2,Bxe5,Rxe5,Nc6,Re2,Rae8,Rg2,Re1,Rg4,Rxf1+,Kxf1,Qxh2,Rg2,Qh5', 'Nf6+,gxf6,gxf6+', 'https://lichess.org/training/6OS9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6OXu2', 'Rapid', 'BBD28', 1976, 'Black_capeJM', 1990, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Ng4,Bg5,h6,Bc1,e5,Nb3,Qh4,Qf3,Nf6,h3,Be6,Nd5,Qxe4+', 'Qxe4,Nxe4,Nc7+,Kd7,Nxa8', 'https://lichess.org/training/6OXu2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6OYHf', 'Rapid', 'Piotrek1991', 1904, 'Mantelete', 1912, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qc7,Nc3,a6,g3,e6,Bg2,Nf6,O-O,Bb4,Nxc6,dxc6,Bd2,Bc5,Qe2,O-O,Rad1,b5,Kh1,Bb7,e5,Nd5,Nxd5,cxd5,c3,Rac8,Be3,Qb6,Rfe1,Rc7,Rc1,Rfc8,Qd2,Qa5,a3,Qa4,Qc2,Qc4,b3,Qg4,b4,Bxe3,Rxe3,d4,Bxb7,Rxb7,Re4,Qf3+,Kg1,Rbc7,Rxd4,h6,Rd3,Qe4,Re3,Qd5,Rd1,Qc4,Rd4', 'Qxd4,cxd4,Rxc2', 'https://lichess.org/training/6OYHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6p1nD', 'Blitz', 'JohnStamos', 1874, 't23232323', 1852, 'd4,d5,c4,e6,Nf3,Nf6,g3,Be7,Bg2,O-O,O-O,b6,Nbd2,Bb7,b3,c5,Bb2,Nc6,e3,dxc4,Nxc4,cxd4,exd4,b5,Nce5,Nxe5,dxe5,Qxd1,Rfxd1,Nd5,Nd4,a6,Nf5,Bc5,Nd6,Bxd6,exd6,Rad8,Bxd5,Bxd5,Ba3,Rd7,Rac1,a5,Rc7,Rfd8,Bc5,a4,Rb1,axb3,axb3,Kf8,b4,Ke8,Rxd7,Kxd7,Ra1,e5,Ra7+,Ke6,Re7+,Kf6,Kf1,Ra8,Ra7,Rd8,Ke2,Ke6,Ke3,g6,f4,exf4+,Kxf4,h6', 'Re7+,Kf6,Bd4#', 'https://lichess.org/training/6p1nD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6P3C2', 'Bullet', 'CM H-Random', 2318, 'NM jpiceman', 2230, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,d4,Nxd5,Bc4,Be6,O-O,Be7,Bxd5,Qxd5,Bxf4,c5,Nc3,Qc4,Bxb8,Rxb8,d5,Bg4,d6,Bf6,Nd5,Bxb2,Nc7+,Kf8,Rb1,Bf6,Kh1,h5,Qe1,Rh6,Ne5,Qxc2,d7,Rd8,Nxg4,hxg4', 'Qe8+,Rxe8,dxe8=Q#', 'https://lichess.org/training/6P3C2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6P42x', 'Rapid', 'Barbibulle', 2260, 'lep_ampe', 1971, 'Nf3,Nf6,g3,c5,Bg2,g6,O-O,Bg7,c4,O-O,Nc3,d6,d3,Nc6,Rb1,a6,a3,Rb8,e3,b5,cxb5,axb5,b4,cxb4,axb4,Nd7,Qb3,Nb6,Nxb5,Be6,Qc2,Qd7,Ng5,Rfc8,Nxe6,Qxe6,Bxc6,d5,Na7,Rc7,b5,Rxa7,Bd2,d4,e4,Ra2,Rb2,Rxb2,Qxb2,Na4,Qc2,Nc3,Bxc3,dxc3,d4,Bxd4,Rd1,Bg7,f4,Qc4,e5,Qc5+,Kg2,f6,e6,f5,Rd5,Qc4,Rd7,Qxe6', 'Bd5,Qxd5+,Rxd5', 'https://lichess.org/training/6P42x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6p63l', 'Blitz', 'IM Alenee', 2370, 'Eldiosdelfuego', 2231, 'e4,e6,Nf3,d5,e5,c5,b4,b6,b5,a6,Na3,Nh6,d4,Nf5,c3,Be7,Bd3,O-O,h4,cxd4,cxd4,Bb4+,Kf1,axb5,Nxb5,Ba6,g4,Ne7,Kg2,Nbc6,Bg5,f6,exf6,gxf6,Qe2,Qd7,Bh6,Rf7,g5,Nf5,gxf6,Nxh6,Ne5,Nxe5,dxe5,Kh8,Kh3,Rg8,a4,Rxf6,Rhg1,Rf4,Rxg8+,Nxg8,Qh5,Qf7,Qxf7,Rxf7,Rc1,Rf3+,Kg4,Rxd3,Rc7,Bxb5,axb5,Rd4+,f4,Re4,Rf7,Bd2,Kg5,h6+,Kg6,Ne7+', 'Rxe7,Rxf4,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/6p63l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6p6Ju', 'Rapid', 'champigni', 1839, 'evz04', 1813, 'e4,c6,Nf3,d5,exd5,cxd5,Nc3,Bg4,d4,e6,h3,Bh5,g4,Bg6,Bf4,a6,Qd2,Ne7,Bd3,Nbc6,a3,Qb6,Na4,Qa7,Nc5,Rc8,Ne5,Nxe5,Bxe5,Nc6,Bxg6,Nxe5,dxe5,Qxc5,Bd3,Be7,f4,Bh4+,Ke2', 'Qf2+,Kd1,Qf3+,Kc1,Qxh1+', 'https://lichess.org/training/6p6Ju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6PAZL', 'Classical', 'brandin', 1848, 'easydoor', 1973, 'Nf3,Nc6,c4,d5,cxd5,Qxd5,Nc3,Qd8,g3,e5,Bg2,Nf6,e3,Bg4,e4,Nd4,h3,Bxf3,Bxf3,Nxf3+,Qxf3,c6,O-O,Bc5,Rd1,Qd4,a3,O-O-O,b4,Be7,Bb2,Qd3,Qf5+,Kb8,Qxe5+,Bd6,Qf5,Bxg3,fxg3,Qxg3+,Kh1,Rd3,Rg1,Qh4,Qe5+,Ka8,Rg2,Rxh3+,Rh2,Ng4,Rxh3,Nf2+,Kg2,Nxh3,Rh1', 'Nf4+,Qxf4,Qxf4', 'https://lichess.org/training/6PAZL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pbwO', 'Rapid', 'acimasizca', 2233, 'BadCo', 2188, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Bc5,e5,d5,exf6,dxc4,fxg7,Rg8,Re1+,Be6,Bg5,Be7,Bxe7,Qxe7,Nxd4,O-O-O,Nxc6,Rxd1', 'Nxe7+,Kd7,Rxd1+', 'https://lichess.org/training/6pbwO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pBXi', 'Classical', 'Daniil200513_d', 1809, 'hadfcdg', 1738, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,d5,Na5,bxc3,Nxc4,Qd4,O-O,Qxe4,Nd6,Qd3,Re8,c4,b6,Bf4,Ba6,Bxd6,cxd6,Rfe1,Qc7,Rac1,h6,Nd4,Qxc4,Qxc4,Rxe1+,Rxe1,Bxc4,a4,Kf8,Nf5,Re8', 'Rxe8+,Kxe8,Nxd6+,Kd8,Nxc4', 'https://lichess.org/training/6pBXi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6PdPS', 'Rapid', 'okilon', 2159, 'ayman111', 2183, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,d4,e5,Nge7,Nc4,Ng6,a4,Be7,h4,Qc7,Qe2,f6,exf6,Bxf6,h5,Nge5,Ncxe5,Nxe5,Ng5,Bxg5,Bxg5,O-O,Bg2,h6,Bf4,Rxf4,gxf4,Qa5+,Qd2,Qxd2+,Kxd2,Ng4,Rhf1,Rb8,Bf3,Nf6,Rfe1,Bd7,Re5,b6,b3,Rc8,Rae1,Re8,a5,Kf7,axb6,axb6,Ra1,Rc8,Ra6,Rb8,Re1,Nd5,Bxd5,exd5,Ra7,Rd8,Re5,Kf6,Rxd5,Ke6,Re5+,Kd6,c3,dxc3+,Kxc3,Rf8,Re4,Bc6,Re3,Rxf4,Rxg7,Rxf2,Rg6+,Kc7,Re7+,Bd7,Rxh6,b5,Rhh7,Kc6,Rxd7', 'b4+,Kc4,Rc2#', 'https://lichess.org/training/6PdPS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pHgg', 'Rapid', 'tonno3', 1740, 'avelez8', 1784, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,e6,Nf3,Nd7,Bd3,g6,O-O,Bg7,Ba3,b6,c4,c5,Rb1,O-O,d5,exd5,exd5,Nf6,Re1,Bg4,h3,Bxf3,Qxf3,Re8,Rxe8+,Qxe8,Bb2,Nd7,Bxg7,Kxg7,Bc2,Ne5,Qf4,f6,Re1,Qd7,h4,Re8,h5,Nf3+,Qxf3,Rxe1+,Kh2,Qd6+,g3,Rc1,Qe4,f5,Qe2,Kf6,Bd3,b5', 'Qb2+,Qe5,Qxc1', 'https://lichess.org/training/6pHgg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6PIOI', 'Rapid', 'nashronelbarbasy', 2010, 'Raxerzert', 2150, 'e4,e5,Bc4,Nf6,d3,c6,a3,d5,exd5,cxd5,Ba2,Bc5,Ne2,O-O,O-O,h6,b4,Bb6,Be3,Nc6,Bxb6,Qxb6,Nbc3,Be6,Na4,Qd8,Nc5,b6,Nxe6,fxe6,Ng3,Qe8,c4,Rd8,cxd5,exd5,Rc1,Nd4,Re1,Kh8,Qd2,e4,dxe4,dxe4,Qc3,Qg6,Bb1,Rfe8,f3,Qg5,fxe4,h5,e5,Ng4,Qd3,g6,Qe4,Rxe5,Qb7,h4,Ne4,Qe7,Rc7,Qf8,Rh7+,Kg8,Rf1', 'Ne2+,Kh1,Qxf1#', 'https://lichess.org/training/6PIOI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pIsQ', 'Blitz', 'Arteche_E', 1942, 'prickler', 1909, 'e4,e5,d4,exd4,Nf3,Bc5,Bc4,Nf6,e5,Ne4,Nxd4,Nxf2,Bxf7+,Kf8,Kxf2,Qh4+,Ke2,Bxd4,Rf1', 'Qe4+,Kd2,Qe3#', 'https://lichess.org/training/6pIsQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pKoH', 'Rapid', 'tvadpung', 1640, 'leo593', 1660, 'e4,e6,d4,Nf6,e5,Nd5,Nf3,c5,c3,cxd4,cxd4,Nc6,a3,Be7,Bc4,Nb6,Bb5,O-O,O-O,a6,Bxc6,bxc6,b4,Nd5,Nbd2,a5,Ne4,axb4,a4,Ba6,Re1,Nc3,Qc2,Nxe4,Rxe4,Rb8,Rg4,b3,Qb1,f5,exf6,Bxf6,Ng5,Bxg5,Rxg5,Qf6,Be3,b2,Ra3,Qe7,Rh5,g6,Rg5,Qxa3,Rxg6+,Kh8,d5,Qa1', 'Bd4+,e5,Bxe5+,Rf6,Bxf6#', 'https://lichess.org/training/6pKoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6PlGG', 'Rapid', 'rubesh12102007', 1979, 'EuleEddy', 1930, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nf3,Bg4,Be2,Nc6,O-O,Qd7,d4,O-O-O,Ne5,Bxe2,Qxe2,Nxe5,dxe5,e6,Rd1', 'Nxc3,Rxd7,Nxe2+', 'https://lichess.org/training/6PlGG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pNJk', 'Rapid', 'Coco158', 2051, 'vedranranko', 1833, 'b4,Nf6,Bb2,e6,b5,Be7,e3,d5,Nf3,Nbd7,c4,dxc4,Bxc4,c6,a4,O-O,O-O,a6,bxc6,bxc6,Ba3,Nb6,Be2,Bb7,Qc2,Bxa3,Nxa3,Nbd5,Rab1,Rb8,Nc4,Ba8,Rxb8,Qxb8,Rb1,Qa7,d4,Rb8,Nfe5,h6,Rxb8+,Qxb8,Na5,Nb4,Qc5,Nfd5,Bxa6,Nxa6,Qc1,Qb4,Naxc6,Bxc6,Nxc6,Qxa4,Ne5,Nc3,Kh1,Qd1+,Qxd1,Nxd1,Kg1,f6,Nc6,Kf7,Na5,Nb2,Kf1,Ke7,Ke2,Kd6,e4,Nc7,Ke3,Nd1+,Ke2,Nc3+,Ke3,N7b5,Nb3,g6,f3,e5,d5,Nc7,Na5,Kc5,Nb7+,Kc4,Na5+,Kb5,Nb7,N7xd5+,exd5,Nxd5+,Ke4,Kc6,Nd8+,Kd6,Nf7+,Ke6,Nxh6', 'f5+,Kd3,Nf4+,Ke3,Nxg2+', 'https://lichess.org/training/6pNJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6PnuY', 'Rapid', 'gsrinivasan', 1724, 'waccab1', 1752, 'd4,c5,d5,d6,e4,g6,Be3,Bg7,Nc3,Nf6,Be2,a6,a4,O-O,Qd2,Bd7,Bh6,e6,Bxg7,Kxg7,g4,exd5,exd5,Re8,g5,Ne4,Nxe4,Rxe4,b3,Qe8,O-O-O,b5,Bd3,Re7,Nf3,bxa4,bxa4,Bxa4,Rhe1,Nd7,Rxe7,Qxe7,Re1,Qd8,Qf4,Qb6,Qxa4,Rb8,Qa2,a5,Kd2,Qb4+,c3,Qf4+,Re3,a4,Ke2,Nb6,Re4,Qf5,Rxa4', 'Re8+,Re4,Rxe4+,Bxe4,Qxe4+', 'https://lichess.org/training/6PnuY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pO0j', 'Rapid', 'bwalmer', 2384, 'c4ever', 2464, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Nf3,d6,cxd4,e6,Bc4,Be7,O-O,O-O,Qe2,a6,Rd1,b5,Bd3,Nb4,Be4,d5,Bd3,Nxd3,Qxd3,Nc6,Nc3,b4,Ne2,a5,Be3,Ba6,Qd2,Bxe2,Qxe2,Qb6,Rac1,Rfc8,h4,Na7,h5,h6,Qd2,Rxc1,Rxc1,Rc8,Rxc8+,Nxc8,Qc2,Na7,Ne1,Qc6,Qxc6,Nxc6,Kf1,Kf8,Ke2,Ke8,Kd3,Kd7,Nc2,Kc7,b3,Kb6,g4,a4,Ne1,Na7,Bd2,Kb5,Nc2,Nc6,Ne1,Bd8,Be3,Bb6,f4,Na5,Kc2,Nc4,bxc4+,dxc4,g5,b3+,axb3,axb3+,Kc3', 'Ba5+,Kb2,Bxe1', 'https://lichess.org/training/6pO0j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pOGL', 'Rapid', 'deadlyassassin', 1759, 'pvq', 1717, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d4,Bd6,Bg5,O-O,Bxd5,c6,Bb3,Re8+,Ne2,Qc7,Bxf6,gxf6,Nc3,Bf5,Qd2,Na6,a3,Bg4,O-O-O,Bxe2,Nxe2,Kh8,Qh6,Rxe2,Qxf6+,Kg8,Qg5+,Kh8,Qf6+,Kg8,h4,Qe7,Qf3,Qe4', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/6pOGL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6poRi', 'Blitz', 'GreenAlgae', 1971, 'poito', 1955, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bd3,O-O,Bf4,Bg4,f3,Bd7,O-O,Nc6,Nxc6,Bxc6,a3,h6,Qd2,Nh5,Be3,Bg5,Bxg5,hxg5,Ne2,Qf6,c3,Nf4,Nxf4,gxf4,Bc4,Rad8,Rad1,a6,Bd5,g6,Bxc6,bxc6,c4,Kg7,Qc2,Rb8,b3,Rh8,b4,Qd4+,Kh1', 'Rxh2+,Kxh2,Rh8#', 'https://lichess.org/training/6poRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pPrP', 'Blitz', 'Fretsches', 2094, 'Thelisi', 2253, 'e4,c5,Nc3,g6,g3,Bg7,Bg2,Nc6,d3,d6,Be3,e6,Qd2,Nge7,Bh6,O-O,h4,Bxh6,Qxh6,Kh8,O-O-O,Ng8,Qe3,e5,Nge2,Nd4,Rdf1,b5,Nd5,Be6,c3,Nxe2+,Qxe2,b4,c4,Bxd5,exd5,Ne7,Bh3,f5,f4,exf4,gxf4,Ng8,h5,Kg7,hxg6,hxg6,Qf2,a5,Rhg1,a4,Qg3,Qf6,Re1,a3,Rg2,axb2+,Rxb2,b3,axb3,Ra1+,Kc2,Rfa8,Re6', 'Qxb2+,Kxb2,R8a2+,Kc3,Rc1#', 'https://lichess.org/training/6pPrP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pqKO', 'Blitz', 'jOHNmAUS', 1568, 'Jbarone', 1510, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,c6,Nf3,O-O,O-O,e6,d4,d5,cxd5,exd5,Bg5,h6,Bd2,Be6,Qc1,Kh7,Re1,Nbd7,e4,dxe4,Nxe4,Nxe4,Rxe4,Nf6,Rh4,h5,Bg5,Qb6,Qf4,Nd5,Qe4,Bf5,Qe2,Rfe8,Qd2,Qb4,Qxb4,Nxb4,Bd2,Nd3,Bf1,Nxb2,Re1,Rxe1,Bxe1,Re8,Bc3,Na4,Ba1,Nb6,Kg2,Be4', 'Rxe4,Rxe4,Ng5+,Kg8,Nxe4', 'https://lichess.org/training/6pqKO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6PsBg', 'Blitz', 'Amirhosseinkh11', 1772, 'Diakonov', 1930, 'e4,Nc6,d4,e5,dxe5,Nxe5,Nf3,Ng6,Bc4,Nf6,Nc3,c6,O-O,Be7,e5,Ng4,Re1,O-O,h3,Nh6,Bxh6,gxh6,Qd2,Bg5,Nxg5,Qxg5,f4,Qxf4,Qe2,b5,Bd3,b4,Ne4,Qxe5,Qf2,Qf4,Qd4,d5,Rf1,Qe5,Nf6+,Kh8,Qxb4,a5,Qxf8+,Nxf8,Rae1,Qd4+,Kh1,Ng6', 'Re8+,Nf8,Rxf8+,Kg7,Rg8#', 'https://lichess.org/training/6PsBg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6PSvD', 'Classical', 'Aresiscool', 2088, 'lazerblood69', 2106, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bb4+,c3,dxc3,O-O,d6,a3,Bc5,b4,Bb6,Qb3,Qe7,Nxc3,Be6,Nd5,Bxd5,exd5,Nd4,Nxd4,Bxd4,Bb2,Bxb2,Qxb2,O-O-O,Qxg7,Nf6,Rfe1,Rdg8,Qh6,Rg6,Qf4,Qd8,Bd3,Rg4', 'Bf5+,Kb8,Bxg4', 'https://lichess.org/training/6PSvD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pSvm', 'Classical', 'wobstertee', 1696, 'Jess2016', 1686, 'd4,Nf6,Bf4,Nc6,e3,d6,c3,Bg4,Be2,Qd7,h3,Bf5,Bd3,Ne4,Qc2,d5,Nd2,g6,Nxe4,dxe4,Bxe4,Bxe4,Qxe4,f5,Qd3,Qd5,Nf3,Bg7,Bxc7,O-O,O-O,Rac8,Bf4,Rce8,Bg5,e5,Qe2,e4,Nd2,h6,Bf4,g5,Bg3,f4,exf4,gxf4,Bh4,f3,Qe3,fxg2,Rfe1,Qh5,Qg3,Kh7,Rxe4,Rxe4,Nxe4,Rg8,Qf4,Qe2,Bf6,Qxb2,Re1,Rf8,Qf5+,Kh8,Bxg7+,Kxg7,Qg4+,Kh7,Nf6+,Rxf6,Qd7+,Kg6,Qe8+,Kg5,Qg8+,Rg6,f4+,Kh5,Qd5+,Kh4,f5,Rg5,Qe4+,Kh5,Qe8+,Kh4,Qh8,h5,Re4+,Kxh3,Re3+,Kg4,Qe8,Qc1+,Re1,Qxc3', 'Qe4+,Kh3,Re3+', 'https://lichess.org/training/6pSvm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pVer', 'Rapid', 'Magwe', 1812, 'Weryuno-Popi', 1816, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,c5,Bg5,Be7,dxc5,Bxc5,cxd5,exd5,Bxf6,Qxf6,Qxd5,Bb6,Qe5+,Qxe5,Nxe5,O-O,e3,Nc6,Nc4,Be6,Nxb6,axb6,Be2,Nb4,O-O,Nxa2,Nxa2,Bxa2,Bf3,Rfb8,Rfc1,f5', 'Rxa2,Rxa2,Bd5+,Kf8,Bxa2', 'https://lichess.org/training/6pVer');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pVwz', 'Rapid', 'hilariochess', 1786, 'Almshkh', 1874, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,O-O,d4,exd4,cxd4,Bb6,Be3,a6,Ba4,Ba7,Re1,b5,Bc2,Nb4,Nbd2,d6,h3,Bb7,Nf1,Rc8,Ng3,c5,d5,Nxc2,Qxc2,Re8,Nh5,Ng6,Qc3,Ne5,Nxe5,Rxe5,Ng3,b4,Qc2,a5,b3,Qf6,Nf5,Rce8,Bc1,Rxe4', 'Rxe4,Rxe4,Qxe4', 'https://lichess.org/training/6pVwz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pxId', 'Rapid', 'victorband', 2193, 'NaaAFakey', 2219, 'c4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,Nf3,e5,O-O,Nge7,e4,O-O,d3,h6,Be3,d6,Qd2,Kh7,Nh4,f5,f4,fxe4,Bxe4,exf4,Rxf4,Ne5,Rxf8,Qxf8,Rf1,Qe8,Nd5,Nxd5,Bxd5,Bh3,Rf2,Ng4,Bf7', 'Qxe3,Qxe3,Nxe3', 'https://lichess.org/training/6pxId');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6py0f', 'Blitz', 'rP9I3HbIe_TpycbI', 2030, 'DAVIDALEKHINE1', 2110, 'f4,d5,e3,c5,Nf3,Nc6,g3,Bg4,Bg2,e5,h3,Bxf3,Qxf3,e4,Qf2,Nf6,a3,h5,O-O,Be7,Nc3,a6,d3,exd3,cxd3,h4,g4,Qc7,g5,Nd7,Nxd5,Qd6,e4,Nd4,e5,Qb8,f5,Nxe5,Nxe7,Kxe7,Re1,f6,Bf4,Kf7,g6+,Ke7,Bxe5,fxe5,Rxe5+,Qxe5,Re1,Qxe1+,Qxe1+,Kf6,Be4,Rae8,Qa5,Nxf5,Qxc5,Re5,Qb6+,Kg5,Qf2,Rf8,Qg2+,Ng3,Qd2+,Rf4,Kg2,Nxe4,dxe4,Rxe4,Qd5+,Kxg6,Qd3,Kf5,b4,g5,a4,Ke5,b5,axb5,Qxb5+,Kd4,Qxb7,Re2+,Kg1,Ke3,Qb6+,Kf3,Qb3+,Re3,Qb7+,Rfe4,Qf7+,Kg3', 'Qf2+,Kxh3,Qg2#', 'https://lichess.org/training/6py0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6pYHE', 'Rapid', 'stolisnik', 1621, 'AmbrosiAndrea', 1664, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,b3,Bc5,Bb2,Nc6,Ne2,Ne4,d4,Bb4+,Nbc3,Nxc3,Bxc3,Bxc3+,Nxc3,Nxd4,Nd5,c6,Qxd4,cxd5,O-O-O,Qc7,Qxg7,O-O-O,Kb1,Rdg8,Qd4,dxc4,Rc1,Bf5+,Ka1,Qa5,Bxc4,Kb8,Rhd1,Rc8,Qf4+,Ka8,Bxf7,Rxc1+,Rxc1,Bd7,Bc4,Rc8,Qf7', 'Qe5+,Kb1,Bf5+', 'https://lichess.org/training/6pYHE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6PzGB', 'Rapid', 'gidio', 1911, 'fayizchess87', 1907, 'e4,e6,d4,d5,Nd2,c5,c3,Nc6,Bb5,a6,exd5,Qxd5,Bc4,Qxg2,Qf3,Qxf3,Ngxf3,cxd4,cxd4,Nf6,O-O,Bd6,Nb3,b5,Bd3,Bb7,Ng5,h6,Ne4,Nxe4,Bxe4,Rc8,Be3,O-O,f4,Rc7,Rac1,Rfc8,Nc5,Bxc5,Rxc5,Nb4', 'Bxb7,Rxc5,dxc5', 'https://lichess.org/training/6PzGB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6PzgV', 'Classical', 'jovana08', 1870, 'Neurotransmissor', 1796, 'e4,g6,d4,Bg7,Nf3,d5,exd5,Qxd5,Nc3,Qd8,Bc4,e6,O-O,Bf6,Be3,Ne7,Qd2,O-O,Bf4,c6,Rad1,Nd5,Bxd5,exd5,Rfe1,Bf5,Be5,Nd7,Bxf6,Qxf6,Ne5,Nxe5,Rxe5,Rfe8,Rde1,Re6,Na4,b6,b3,Rae8,Rxe6,Rxe6,Rxe6,Qxe6,h3,Qe4,c4,dxc4,bxc4,Qc2,Qxc2,Bxc2,Nc3,Bd3,c5,b5,d5,cxd5,Nxd5,Be4', 'Nf6+,Kf8,Nxe4', 'https://lichess.org/training/6PzgV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6PzTd', 'Rapid', 'YosoyAventurero', 1756, 'EdoardoMandelli', 1754, 'd4,d5,Nf3,Nf6,c4,dxc4,e3,Be6,Ng5,Bd5,Nc3,h6,Nxd5,Qxd5,Nf3,b5,a4,c6,Nd2,e6,axb5,cxb5,Ra5,Bb4,Ra1,Nc6,Be2,Qxg2', 'Bf3,Qh3,Bxc6+', 'https://lichess.org/training/6PzTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Q1RE', 'Classical', 'ayman-ashour', 1774, 'ardarsun', 1989, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Nxc6,bxc6,a3,d5,exd5,exd5,O-O,Be7,h3,O-O,Re1,c5,c4,d4,Qf3,Rb8,Bf4,Bd6,Bg5,Be7,b4,Bb7,Qf5,Bc8,Qf4,Be6,Nd2,Qd7,Qh4,h6,Bf4,Nd5,Qg3,Nxf4,Qxf4,cxb4,Rab1,bxa3', 'Rxb8,Bd6,Rxf8+', 'https://lichess.org/training/6Q1RE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6q6cw', 'Blitz', 'MANIGOLDDO', 1665, 'Nogens', 1858, 'e4,e5,Nc3,d6,Nf3,Be6,d4,exd4,Nxd4,Nc6,Nxe6,fxe6,Bb5,Qd7,Bf4,e5,Bg5,Nf6,Bxf6,gxf6,Nd5,Bg7,Qh5+,Kd8,O-O,a6,Bxc6,bxc6,Ne3,Bf8,Nf5,Qe6,Rfd1,Kc8,Qe2,Be7,Qd3,Rg8,Qc3,Kd7,b3,Rg5,Qb4,Rag8,Ng3,h5,h4,Rg4,c4,Rxh4,c5,Qg4,cxd6,Bxd6,Qc4,Qf4,Qxg8,Rg4,Qf7+,Kc8,Qe6+,Kb7,Rxd6,h4,Rxc6,hxg3,Qd5', 'Qxf2+,Kh1,Rh4#', 'https://lichess.org/training/6q6cw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Q8Ey', 'Rapid', 'yourwife', 1809, 'Polo1ca', 1836, 'd4,Nf6,c4,c5,d5,d6,Nc3,g6,e4,Bg7,Bg5,e6,Bd3,exd5,cxd5,Nbd7,Nge2,Ne5,Bc2,Qb6,Ba4+,Bd7,Bxf6,Bxf6,Bxd7+,Nxd7,b3,O-O,O-O,Rae8,f3,Ne5,Kh1,Bg7,Rb1,f5,Na4,Qc7,Nac3,a6,h3,b5,Ng3,Nd7,Nce2,fxe4,Nxe4,Qb7,Ng5,Nf6,Ne6,Rf7,N2f4,Bh6,Re1,Bxf4,Nxf4,Rxe1+,Qxe1,Nxd5', 'Qe8+,Rf8,Qe6+', 'https://lichess.org/training/6Q8Ey');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6qccH', 'Classical', 'copla', 1965, 'enmanuel_lopez', 1944, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,Bxa6,Nc3,d6,e4,Qa5,Bxa6,Nxa6,Ne2,Nxe4,O-O,Nf6,Bd2,Qc7,Nb5,Qb7,Qa4,Nd7,Ba5,g6,Rfe1,Bg7,Nec3,Be5,f4,Bf6,Nxd6+,Kf8,Nxb7,Bd4+,Kh1,Nf6,d6,exd6,Bd8,Kg7,Bxf6+,Bxf6,Nxd6,Nb4,Qd7,Rhf8,Nd5,Nxd5,Nf5+,gxf5,Qxd5,Bxb2,Rab1,Bd4,Qxf5,Rxa2,Qg5+,Kh8,f5,Rg8,f6,Rxg5,Rb8+,Rg8', 'Rxg8+,Kxg8,Re8#', 'https://lichess.org/training/6qccH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QdFJ', 'Rapid', 'amrookhateeb5', 1911, 'Basselegypt34', 1768, 'e4,Nc6,d4,e6,Nf3,d6,Bb5,Bd7,O-O,Qe7,a4,a6,Be2,d5,e5,O-O-O,c3,f6,b4,fxe5,Bg5,Nf6,dxe5,h6,exf6,gxf6,Bh4,Rg8,b5,Ne5,Nxe5,Qd6,Nxd7,Rxd7,bxa6,Kb8,axb7,Kxb7,Na3,Rdg7,Qb3+,Kc8,Ba6+,Kd8,Qb8+,Ke7,Bb5', 'Rxg2+,Kh1,Qxh2#', 'https://lichess.org/training/6QdFJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QDvw', 'Rapid', 'HamiSimsek', 1862, 'toto639', 1863, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nc4,Nxe4,d4,d5,Ne3,c6,Bd3,Bf5,c4,Be6,Bxe4,dxe4,Nc3,f5,O-O,Bb4,a3,Bxc3,bxc3,O-O,d5,Bc8,f4,Qf6,Qc2,Rd8,Bb2,Na6,Rad1,Nc5,a4,Nd3,Ba3,Qh6,Be7,Re8,d6,Bd7,Rxd3,exd3,Qxd3,Qg6,c5,b6,Nc4,b5,Ne5,Qe6,axb5,cxb5,Nxd7,Qxd7,c6,Qxc6,Qxf5,Qxc3,Qd5+,Kh8,d7,Qe3+,Kh1,Qxe7,dxe8=Q+,Qxe8,g3,a5,Rb1,b4,Kg2,h6,Kf3,Qd8,Ke4,Qxd5+,Kxd5,Rc8,Ra1,b3,Rxa5,b2,Rb5,Rc2,h4,Rg2,Ke4,Kh7,Kf3,Rc2,h5,Rc3+,Kg2,Rc2+,Kh3,Kg8,Kg4,Kf7,Kf5', 'Rc5+,Rxc5,b1=Q+', 'https://lichess.org/training/6QDvw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QFP2', 'Rapid', 'AlexK1958', 1898, 'TheNextBattle', 1705, 'd4,e6,e3,Ne7,c4,Ng6,Nc3,b6,Bd3,Bb7,Nf3,Qf6,e4,Nh4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/6QFP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QfSQ', 'Blitz', 'perumalla_likhith', 1758, 'Ridhaan123', 1506, 'e4,e5,Nf3,Bc5,Bc4,d6,h3,Nf6,Nc3,Nc6,d3,O-O,Bg5,h6,Bh4,Nd4,Nd5,g5,Bg3,Nxd5,Bxd5,c6,Bc4,b5,Bb3,d5,Bxe5,Nxf3+,Qxf3,f5,Qh5,Kh7,O-O,fxe4,dxe4,dxe4', 'Bg8+,Rxg8,Qf7+,Rg7,Qxg7#', 'https://lichess.org/training/6QfSQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QfYo', 'Blitz', 'yvanleterrible', 2131, 'mahmoudnassr3536', 2143, 'd4,c6,c4,d5,Nf3,Nf6,Nc3,Bf5,cxd5,Nxd5,Qb3,Nxc3,Qxb7,Nb5,Qxa8,e6,Bd2,Bd6,a4,Nc7,Qxa7,O-O,e3,Be4,Be2,Nd5,O-O,Nd7,Rac1,Bb8,Qa5,Bc7,Qa6,c5,dxc5,N5f6,Rfd1,Ng4,h3,Bxf3,Bxf3,Bh2+,Kf1,Ngf6,Bc3,Qc7,b4,e5,c6,Nb8,Qc4,Re8,b5,e4,Be2,h6,Bxf6,gxf6,Rd4,f5,Rcd1,Be5,Rd5,Kh7,Bh5,Rg8,Rd7,Nxd7,Qxf7+,Rg7,Qxf5+,Kh8,Rxd7,Rxd7,cxd7,Qc1+,Ke2,Qc2+,Kf1,Qd3+,Kg1', 'Qb1+,Bd1,Qxd1#', 'https://lichess.org/training/6QfYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6qgGE', 'Classical', 'babekaslan', 1864, 'praisefaith', 1845, 'e4,c5,Bc4,Nc6,c3,Nf6,d3,e6,Nf3,h6,h3,d5,exd5,exd5,Bb5,Bd7,Qe2+,Be7,O-O,O-O,Re1,Re8,Bxc6,Bxc6,Ne5,Bd7,d4,Bd6,Qf3,Ne4,Qxf7+,Kh8,Ng6+,Kh7,Bf4,Ng5,Rxe8,Bxe8,Nf8+,Kh8,Qf5,Bd7,Ng6+,Kg8,Qxd5+,Nf7,Bxd6,Qf6,Ne7+,Kh8,Be5,Qxe7,Qxb7,Rf8,Qe4,Ng5,Qd3,Qf7,f3,Qh5,Nd2,Qh4,f4,Bxh3,fxg5', 'Qf2+,Kh2,Qxg2#', 'https://lichess.org/training/6qgGE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QGhH', 'Classical', 'Alexkos', 1862, 'chuckymm', 1906, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Bd3,Nf6,O-O,g6,f4,Bg7,Be3,Ng4,Qe2,Qb6,c3,Nxe3,Qxe3,Qxb2,Nd2,Qxc3', 'Bb5+,axb5,Qxc3', 'https://lichess.org/training/6QGhH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QGpo', 'Rapid', 'Antonich', 1958, 'Vinayyenegure', 1870, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Bxc6,dxc6,Nxe5,Be7,Qe2,Be6,d3,O-O,c4,Re8,Qf3,Bf6,Bd2,Nf5,Bc3,Nd4,Qd1,Bxe5,Rxe5,Bg4', 'Rxe8+,Qxe8,Qxg4', 'https://lichess.org/training/6QGpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Qj1I', 'Rapid', 'Divinity90', 2061, 'caddy', 1983, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nge7,Nc3,Nxd4,Qxd4,Nc6,Qd5,d6,Bd3,Be6,Qb5,Rb8,Be3,a6,Qh5,g6,Qe2,Bg7,f4,Qd7,O-O-O,O-O,h4,Nb4,a3,Nxd3+,Rxd3,Bg4,Qf2,b5,e5,b4,axb4,Rxb4,exd6,cxd6,Bc5,Bxc3,bxc3,Ra4,Kd2,Qf5,Bxd6,Rd8,Qb6,Re8,Qc6,Rae4,Kc1,Qa5,Be5,Qa1+,Kd2', 'Re2#', 'https://lichess.org/training/6Qj1I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6qjrm', 'Rapid', 'EgorNeEgor', 1739, 'Zeki41', 1774, 'd4,d5,c4,dxc4,Nc3,e5,dxe5,Qxd1+,Nxd1,Bb4+,Nc3,Bxc3+,bxc3,Nc6,Nf3,Bg4,Rb1,O-O-O,Bg5,f6,exf6,gxf6,Bf4,Bxf3,gxf3,Nge7,Bh3+,Kb8,O-O,Nd5,Bd2,Ndb4,Rb2,Na6,a3,Rhg8+,Bg2,h5,f4,h4,Kh1,Nc5,Bxc6,b6,Bb5,Ne4,Be1,Rd1,Bxc4', 'Nxf2+,Rxf2,Rxe1+,Rf1,Rxf1#', 'https://lichess.org/training/6qjrm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QMUh', 'Blitz', 'zzz123456789', 1585, 'The_o_rem', 1548, 'd4,g6,c4,Bg7,e4,b6,Nc3,Bb7,Nf3,Nc6,d5,Ne5,Nxe5,Bxe5,Qc2,Nf6,Bg5,O-O,Bd3,c6,Rc1,cxd5,cxd5,Rc8,Qd2,Ng4,O-O,Bd4,h3,Ne5,Kh1,Nxd3,Qxd3,Bc5,f4,f6,Bh6,e6,Bxf8,Qxf8,dxe6,dxe6,Nb5,Rd8,Qb3,Rd2,Qxe6+,Kh8,Qb3,Qh6,Rcd1,Re2,Rd8+,Kg7,Rd7+,Kh8,Qf7', 'Qxh3+,gxh3,Bxe4+,Rf3,Bxf3#', 'https://lichess.org/training/6QMUh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6qmZO', 'Rapid', 'manish007', 2019, 'NeelendraMohanSukul', 1966, 'e4,e5,Bc4,Nc6,Nc3,Nf6,Nf3,Bc5,O-O,O-O,Nd5,Nxe4,d3,Nf6,Bg5,Be7,Re1,Nxd5,Bxd5,Bxg5,Bxc6,dxc6,Rxe5,Bf6,Re1,Bxb2,Rb1,Bf6,d4,Bg4,Qd3,Bxf3,Qxf3,Qxd4,Re4,Qd5,Rxb7,Qxa2,h3,Qa1+,Kh2,Be5+,g3,Bd6,Rg4,Rab8,Qxc6,Rxb7,Qxb7,Qf1,Qxa7,h5,Rg5,h4,Qd4,hxg3+,fxg3,Qe2+,Kh1,Qf3+,Kh2,f6,Rg4,Qe2+,Kg1,Be5,Qd5+,Kh7,Rh4+,Kg6,Rg4+,Kf5', 'Qd7#', 'https://lichess.org/training/6qmZO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QP8p', 'Rapid', 'monemobidy', 1721, 'InProgress123', 1683, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,Qb6,Be2,Nh6,a4,Bd7,a5,Qc7,Bxh6,Nxa5,Na3,cxd4,Bf4,dxc3,bxc3,Nc6,Bb5,a6,Be2,Bc5,O-O,O-O,Nd4,Nxe5,Bd3,Bd6,Qh5', 'Nxd3,Bxd6,Qxd6', 'https://lichess.org/training/6QP8p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6qPb0', 'Rapid', 'theramkingslayer', 1847, 'JeremyIsFishing', 1849, 'e4,c6,Nf3,d5,e5,c5,Bb5+,Nc6,d4,e6,dxc5,Bxc5,O-O,Qb6,Nc3,Ne7,Bg5,Ng6,Bxc6+,bxc6,Rb1,O-O,Na4,Qa5,Nxc5,Qxc5,a3,a5,Be3,Qe7,c3,Ba6,Re1,Rfb8,Qa4,Bb5,Qc2,h6,Nd4,c5,Nf3,Qc7,a4,Bd7,b3,Rb7,Rb2,Rab8,Reb1,Nxe5,Nxe5,Qxe5,Bxc5,Bc6,Bd4,Qg5,Qe2,Rxb3', 'Rxb3,Rxb3,Rxb3', 'https://lichess.org/training/6qPb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QpwD', 'Rapid', 'DEUS1000', 1825, 'Treino01', 1758, 'e4,e5,c3,Nf6,d4,Nxe4,Qf3,d5,dxe5,Bc5,Be3,Qe7,Bd3,Bxe3,Qxe3,O-O,Bxe4,dxe4,Qxe4,Re8,f4,f6,Nf3,c6,Nbd2,Nd7,O-O,Nc5,Qd4,Rd8,Qf2,fxe5,Nxe5,Bf5,b4,Na4,Rfe1,Qc7,c4,Rd6,h3,Rad8,Ndf3,Nc3,Qxa7,Be4,c5,Rd5,Ng5,Bd3,Ne6,Qc8,Nxd8,Rxd8,Qb6,Rf8,Nxd3,Qf5,Nf2,Qxf4,Ng4,h5,Rf1', 'Ne2+,Kh1,Ng3+', 'https://lichess.org/training/6QpwD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QRe9', 'Classical', 'numbskull1', 1681, 'sapeg', 1696, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Bc4,Bg4,Qd3,Nc6,a3,e5,Bg5,Bxf3,Bxf6,Qxf6,gxf3,Nxd4,O-O-O,Nxf3', 'Nd5,Qd8,Qxf3', 'https://lichess.org/training/6QRe9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6QtXU', 'Rapid', 'bangs02', 1743, 'Serame75', 1725, 'd4,d5,c4,dxc4,e4,b5,a4,c6,axb5,cxb5,Nc3,Bd7,Nf3,a6,Ne5,f6,Nxd7,Qxd7,Be2,e6,d5,exd5,Bg4,Qd6,exd5,b4,Nb5,Qe5+,Be2,c3,O-O,Bc5,Bf3,Kf7,Re1,cxb2,Rxe5,bxa1=Q,Nc7,Qxe5,Nxa8,Ne7,g3,Nd7,Bf4,Qd4,Qa4,Rxa8,Be3,Qb2,Qxd7,Bxe3,fxe3,Qc1+,Kg2,Qxe3,d6,Qd2+,Kh3,Qh6+,Kg2,Qd2+,Kf1,Re8,h4,Kf8', 'dxe7+,Rxe7,Qxd2', 'https://lichess.org/training/6QtXU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6qTxW', 'Blitz', 'Tilichkin', 2338, 'NM CJMabe', 2307, 'e4,e6,d4,d5,Nc3,Bb4,Bd3,c5,exd5,exd5,dxc5,Bxc3+,bxc3,Qa5,Ne2,Ne7,Be3,Na6,Bd4,f6,O-O,Nxc5,Ng3,Nxd3,cxd3,O-O,Qb3,Nf5,Nxf5,Bxf5,Qxb7,Bxd3,Rfe1,Ba6,Qd7,Qd8', 'Qe6+,Rf7,Qxa6', 'https://lichess.org/training/6qTxW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6qV99', 'Blitz', 'grossebanane', 2115, 'Pedrofish', 1990, 'e4,c5,Nf3,d6,c4,Nf6,Nc3,Nc6,d3,e5,Bg5,Be7,Qa4,O-O,Nd5,Nxd5,cxd5,Bxg5,dxc6,bxc6,Be2,Bd7,O-O,Bf6,b3,g6,Rac1,Bg7,Nd2,Qe7,Qc4,Kh8,h3,f5,exf5,Bxf5,Ne4,Bh6,Rcd1,Rad8,Bf3,Qh4,Ng3,Qxc4,dxc4,Be6,Bxc6,Bf4,Ne4,Bf5,Nxd6,Bc2,Nf7+,Kg7,Rxd8,Rxf7,Bd5,Re7,f3,e4,fxe4,Be3+,Kh1,Bxe4,Bxe4,Rxe4,Rd7+,Kh6,Rff7,Bd4,Rxh7+,Kg5,h4+,Kg4,h5,Be5,Kg1', 'Re1+,Kf2,Bg3#', 'https://lichess.org/training/6qV99');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6qXBc', 'Blitz', 'GM DanielHausrath1', 2688, 'Byf', 2403, 'Nf3,Nf6,g3,d5,Bg2,Nc6,d4,Bf5,O-O,e6,c4,Be7,Nc3,O-O,Ne5,h6,cxd5,exd5,Nxc6,bxc6,Bf4,Bd6,Bxd6,cxd6,Rc1,Re8,Qa4,Qb6,b3,a5,e3,Rac8,h3,Qb4,a3,Qb6,Rfd1,Bd7,b4,axb4,Qxb4,Qxb4,axb4,Rb8,Rb1,Rb7,g4,Reb8,b5,cxb5,Nxd5,Nxd5,Bxd5,Rc7,Rdc1,Rxc1+,Rxc1,b4,Rc7,Be6,Bxe6,fxe6,Kf1,b3,Rc1,Kf7,Ke2,Kf6,h4,e5,Kd3,h5,gxh5,Kf5,dxe5,dxe5,Rg1,b2,Kc2,b1=Q+,Rxb1,Rxb1', 'Kxb1,Ke4,Kc2', 'https://lichess.org/training/6qXBc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6qxJb', 'Rapid', 'Maxwell0318', 1664, 'Lonewolf21', 1755, 'd4,Nf6,Nc3,d5,Nf3,Bg4,e3,e6,Be2,Bb4,a3,Bxc3+,bxc3,Nbd7,c4,O-O,Rb1,Rb8,c5,Re8,O-O,e5,c3,e4,Nd2,Bxe2,Qxe2,c6,a4,Qa5,Rb4,b6', 'Nb3', 'https://lichess.org/training/6qxJb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6r0QS', 'Rapid', 'Anthony_Cardenas', 2234, 'Knightmare_03', 2111, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,e6,d4,Bd6,Bd3,Nbd7,c4,c5,Bg5,cxd4,Nxd4,O-O,O-O,h6,Bc1,Ne5,Be2,a6,b3,Qc7,Bb2,Be7,f4,Nc6,Nxc6,bxc6,Kh1,Rd8,Qc2,Bb7,f5,e5,Bf3,Bd6,Rae1,Re8,c5,Bf8,a3,a5,Re3,Ba6,Rfe1,Nd7,b4,axb4,axb4,Bb5,f6,Nxf6,Bxe5,Qe7,Bxf6,Qxe3,Rxe3,Rxe3,Bc3', 'Ra1+,Qd1,Rxd1+', 'https://lichess.org/training/6r0QS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6r5XQ', 'Classical', 'glaand', 1809, 'Bruschlwummsi', 1795, 'e4,e5,Nc3,Nf6,f4,d5,fxe5,Nxe4,Nxe4,dxe4,Qe2,Bf5,Qb5+,Nc6,d4,Qxd4,Qxb7,Rd8,Bg5,Be7,Bxe7,Kxe7,Qxc6', 'Qd2#', 'https://lichess.org/training/6r5XQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6r8xD', 'Rapid', 'Den19987', 1725, 'hashi98', 1699, 'd4,d5,Bf4,e6,e3,c5,dxc5,Bxc5,Bd3,Nc6,Nc3,Nf6,a3,O-O,h3,e5,Bg3,e4,Bb5,a6,Bxc6,bxc6,Bh4,Be7,Bxf6,Bxf6,Nge2,Qb6,Rb1,Be5,O-O,Bb8,Qd4,Qc7,Ng3,h5,h4,Qd8,Qc5,Bd7,Na4,Ba7,Qd6,Bb8,Qc5,Qxh4,Nb6,Ba7,a4,Qd8,a5,h4,Nh5,Qc7,Nf4,Rae8,g3,hxg3,fxg3,Bg4,Kf2,Bf3,Ke1,g5,Nfxd5,Qxg3+,Kd2,Qg2+,Kc3,Qh2,Qxc6,Qe5+,Kb3,Bxb6,axb6,Rc8,Nf6+,Kh8,Rh1+,Kg7,Rh7+,Kg6,Ng4+,Rxc6', 'Nxe5+,Kxh7,Nxc6', 'https://lichess.org/training/6r8xD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6R9Iz', 'Blitz', 'Chugunov_Vyacheslav', 2149, 'Elvin_Huseynov', 2116, 'd4,b5,Nf3,Bb7,e3,a6,Be2,e6,O-O,c5,c4,bxc4,Bxc4,d5,Be2,Nf6,Nc3,Nbd7,a3,c4,Ne5,Nxe5,dxe5,Nd7,f4,Bc5,Bf3,Qb6,Qe1,O-O,Bd2,Bc6,Rb1,a5,Qf2,a4,Ne2,Rfb8,Nd4,Nf8,Bc3,Ng6,g4,Ne7,h4,Qb3,Kh2,Bxd4,exd4,Rb7,f5,Rab8,Bd1,Qxc3,bxc3,Rxb1,Bc2,R1b2,fxe6,fxe6,Qf7+,Kh8,Qxe7,Rxc2+,Kg3,Rxc3+,Kf4,Kg8,Kg5,h6+', 'Kg6,Be8+,Rf7,Bxf7+,Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/6R9Iz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6r9OQ', 'Blitz', 'sadiqkadio', 1530, 'Patrick096', 1655, 'e4,Nf6,Nc3,e5,Nf3,d6,Bc4,Nbd7,Ng5,Ke7,Nxf7,Qe8,Nxh8,c6,Nf7,h6,d4,d5,exd5,cxd5,Bxd5,Nxd5,Qh5,N5f6,Qg6,Qxf7,Qxf7+,Kxf7,dxe5,Nxe5,O-O,Bc5,Re1,Neg4,Be3,Bd6,h3,Nh2,g3,Bxh3,Kxh2,Bd7,Rad1,Ng4+,Kg1,Bc6,Rxd6,Re8,Kf1,Re5,Bf4', 'Nh2+,Kg1,Rxe1+,Kxh2,Rh1#', 'https://lichess.org/training/6r9OQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6RaFT', 'Bullet', 'Souza2003', 1608, 'aleuribe11', 1705, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Nxc6,bxc6,c4,Nf6,Bd3,Be7,Nc3,c5,O-O,O-O,Re1,Bb7,Nd5,Nd7,Bf4,Bf6,Qc2,Ne5,Nxf6+,Qxf6,Bxe5,Qxe5,b3,Qg5,f3,f5,exf5,Bxf3,Be4,Bxe4,Qxe4,Rxf5,Qxa8+,Kf7,Qxa7,Qf4,Qxc7+,Kg6,Re6+,Kh5,Qxg7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/6RaFT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6RBdG', 'Blitz', 'dariushed', 1975, 'notanymore7', 2015, 'e4,d6,f4,g6,Nf3,Bg7,d4,a6,c3,b5,a3,Bb7,Bd3,Nd7,O-O,e6,Qe2,Ne7,f5,c5,fxe6,fxe6,Ng5,Nf8,Rxf8+,Bxf8,Nxe6,Qd7,d5,Bc8,Bf4,Qb7,Bxd6,Bxe6,dxe6,O-O-O,e5,Nf5,Be4,Qa7,e7,Bxe7,a4,b4,cxb4,Bxd6,exd6,cxb4+,Kh1,Rhe8,Qc4+,Kb8,Qxb4+,Kc8,Na3,Nxd6,Rc1+,Kd7,Bc6+,Ke7,Re1+,Kf7,Qf4+,Nf5,Qc4+,Kg7,Bxe8,Qf2,Qf7+,Kh6,Qf8+,Kh5,g4+,Kxg4,Rg1+,Kh5,Bxg6+,hxg6,Qxd8,Qf3+,Rg2,Qf1+,Rg1,Qf3+,Rg2', 'Qf1+,Rg1,Ng3+,hxg3,Qh3#', 'https://lichess.org/training/6RBdG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6rcW2', 'Blitz', 'Dentistmaher', 1882, 'Ashug2', 1877, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,g6,Bxf6,exf6,Bc4,Bg7,Qf3,O-O,O-O,Nc6,Nxc6,bxc6,Rad1,Qc7,Rfe1,Be6,Bb3,Rad8,Qg3,Qe7,h3,Bxb3,cxb3,Qe5,f4,Qe7,Rd2,Rfe8,Red1,Qc7,f5,Qb6+,Kh1,d5,exd5,cxd5,Nxd5,Qc5,fxg6,hxg6,Nf4', 'Rxd2,Rxd2,Qc1+,Rd1,Qxd1+', 'https://lichess.org/training/6rcW2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6rEr8', 'Rapid', 'neilswarner', 1678, 'trothan', 1660, 'd4,Nf6,c4,e6,Nc3,d5,Bg5,Be7,Nf3,h6,Bh4,Nbd7,cxd5,exd5,e3,O-O,Ne5,c6,Nxd7,Bxd7,Bd3,Re8,O-O,Qc7,Bg3,Bd6,Ne2,Ne4,Bxd6,Nxd6,Nf4,Bf5,Be2,b5,Nd3,a5,Ne5,Nc4,Nxc4,bxc4,Rc1,Qb6,b3,cxb3,Qxb3,Reb8,Rc3,a4,Qxb6,Rxb6,Rfc1,Rab8,Rxc6', 'Rxc6,Rxc6,Rb1+', 'https://lichess.org/training/6rEr8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6rFMX', 'Rapid', 'chickengig', 1722, 'ShatirGhoda', 1743, 'e4,e5,Nf3,Nf6,Bc4,c6,O-O,d5,exd5,cxd5,Bb3,Bg4,d3,Nc6,Re1,Bd6,h3,Bxh3,gxh3,Qd7,Kg2,h6,Nh2,O-O-O,Nd2,Kb8,Ndf1,g5,Ng4,Qe7,Nxf6,Qxf6,c3,e4,Bxd5,Bc5,Be3,Rxd5,Qg4,Ne5,Qxe4,Bxe3,Nxe3,Rxd3,Nd5,Qe6', 'Qxe5+,Qxe5,Rxe5', 'https://lichess.org/training/6rFMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6rg9x', 'Blitz', 'Jesuspb', 2074, 'JohnnyDuck64', 2138, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,Be3,Be7,Qd2,b5,a3,Bb7,f3,O-O,Nb3,Nbd7,O-O-O,Rc8,Kb1,Ne5,Qe1,Nc4,Bc1,Qc7,g4,Nxa3+,bxa3,Qxc3,Qxc3,Rxc3,Bb2,Rcc8,h4,Nd7,h5,Ne5,Bxe5,dxe5,Rd7,Bxe4,fxe4,Bxa3,Bd3,Bb4,Rd1,Bc3,Rb7,Rb8,Rxb8,Rxb8,Nc5,a5,Ka2,Bd4,Nb3,Bc3,Be2,a4,Nc5,h6,Rd7,Bd4,Nd3,b4,Nc1,Rc8,Bd3,Rc3,Ne2', 'Ra3+,Kb1,Ra1#', 'https://lichess.org/training/6rg9x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ri0W', 'Blitz', 'pytou', 2214, 'Spitalfields', 2211, 'b3,Nf6,Bb2,d5,e3,Bf5,Nf3,h6,c4,e6,Be2,Bd6,cxd5,exd5,O-O,c6,d3,Nbd7,Ba3,Bxa3,Nxa3,O-O,Nc2,c5,d4,b6,Ba6,Qe7,Rc1,Ne4,dxc5,Ndxc5,Be2,Nc3,Qd2,N5e4,Qe1,Nxa2,Ra1,Nac3,Ncd4,Bd7,Ba6,Rfe8,Nd2,Nxd2,Qxd2,Ne4,Qe2,Nc5,Bb5,Bxb5,Qxb5,Ne6,Nc6,Qd7,Rfd1,Rec8,Nd4,Qxb5,Nxb5,a6,Nd6,Rc3,Ra3,a5,g3,Nc5,Rxd5,Rxb3,Ra1,a4,Nc4,a3,Nxb6,Rxb6,Rxc5,a2,Rcc1,Rb2,Kg2,g6,h4,Kg7,Kf3,Ra6,Rd1,Rf6+,Ke4,Rfxf2,Rd7,Rg2,Ra7,Kf6,Ra6+,Kg7,Kf3,Rgf2+,Ke4,Rfd2,Ra7,g5,hxg5,hxg5,Kf5,Rb5+,Kg4,Kg6,Ra6+,f6,R1xa2,Rxa2,Rxa2,f5+,Kf3,Rb3,Ra6+,Kh5,Ra5,Kg6,Ra6+,Kh5,Rf6,f4', 'g4+,Kh4,Rh6#', 'https://lichess.org/training/6ri0W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6RIRU', 'Blitz', 'tigreavecdesailes', 1945, 'FM garnulf', 2370, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Nd5,Nxd5,exd5,Ne7,c4,Ng6,Bd3,f5,f3,Be7,O-O,O-O,b3,a6,Nc3,Bg5,Qc2,Bxc1,Raxc1,Qg5,Ne2,Bd7,b4,Rac8,c5,Kh8,Ng3,e4,fxe4,f4,Nf5,Bxf5,exf5,Ne5,Be4,Ng4,Qd3,Rfe8,Qf3,Nf6,Bd3,Re3,Qxf4', 'Qxf4,Rxf4,Rxd3', 'https://lichess.org/training/6RIRU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6RitV', 'Rapid', 'Yr13rudruv', 1631, 'castro830', 1733, 'e4,e5,Nf3,d6,d4,exd4,Bc4,c5,Ng5,Nh6,Nf3,Qf6,c3,Be6,Bg5,Qg6,Bxe6,Qxe6,cxd4,Qxe4+,Be3,Nf5,O-O,Nxe3,Qe2,cxd4,fxe3,dxe3,Re1,Be7,Nc3,Qe6,Qd3,O-O,Rxe3,Qd7,Nd5,Nc6,Nxe7+,Nxe7,Ng5,Ng6,Rh3,h6,Qf3,hxg5,Qh5,Rfc8,Re1,Re8', 'Qh7+,Kf8,Qh8+,Nxh8,Rxh8#', 'https://lichess.org/training/6RitV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6RjnK', 'Classical', 'mustafadurkal', 1883, 'PETROS9N', 1883, 'c4,Nf6,d4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,h4,e5,d5,Bg4,Be2,c5,Ng5,Bxe2,Qxe2,h6,Nf3,Nh7,Be3,Na6,a3,Nc7,Qd2,a6,Bxh6,b5,b3,bxc4,bxc4,f5,h5,g5,Bxg5,Nxg5,Qxg5,Qxg5,Nxg5,Bh6,Nf3,fxe4,Nxe4,Ne8,Ke2,Rf4,Rh4,Rxh4,Nxh4,Rb8,Nf5,Rb2+,Kf3,Rb3+,Kg4,Bf8,h6,Rb2,Rh1,Rc2,h7+,Kh8,Ng5,Rxc4+,Kf3', 'Rf4+,Ke2,Rxf5', 'https://lichess.org/training/6RjnK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Rjwf', 'Classical', 'niki50', 1779, 'fildm', 1765, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Nf6,Nc3,Bb4,Bd2,O-O,Nd5,Bxd2+,Qxd2,Nxd5,Bxd5,Qf6,Qc3,Re8,Bxc6,dxc6,O-O-O,Bg4,h3,Bxf3,gxf3,Qxf3,Qd2,Rad8,Rdg1,Rd6,Rh2,Qf4,Rhg2,Qxd2+,Kxd2,g6,h4,h5,Rg5,Kh7,Rf1,Rf6,Rg2,Rf4,Rh2,Rd8,Ke3,b5,b4,Rd4,c3,Rd8,d4,Re8,dxe5,Rg4,f4,Rg3+,Rf3,Rg1,Kd4,Re1,Kc5,Re6,Kd4,Rd1+,Rd3,Rf1,Ke3,Re1+,Kf2,Rxe4,Kf3,Re1,Rd7,Rf1+,Kg3,Rc1,Rxf7+,Kg8,Rxc7,Rxc3+,Kg2,Ra3,Kf1,Re8,Rd2,Rf8,Rf2,Rc3,e6,Rc1+,Kg2,Re8,Re2,Rc4,Kf3,Rc3+,Kg2,Rc4,e7,Kf7,Kf3,Rc3+,Re3', 'Rxe3+,Kxe3,Rxe7+,Rxe7+,Kxe7', 'https://lichess.org/training/6Rjwf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6RLlZ', 'Blitz', 'hakan-05', 1858, 'BlRadler', 1809, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,dxc5,Bxc5,Nb3,Bb6,Nf3,Nf6,Be2,O-O,O-O,Nc6,c3,Re8,Qc2,g6,Bg5,Bf5,Bd3,Bxd3,Qxd3,Qd6,Nbd4,Ne5,Qd2,Bxd4,Nxd4,Ne4,Qf4,f6,Bh6,g5,Qf5,Nf7,Qh3,Nd2,Rfe1,Nc4,Nf5,Qc5,Kh1,Qxf2,Rxe8+,Rxe8,Rg1,Re1,Ne7+,Kh8', 'Qc8+,Nd8,Qxd8#', 'https://lichess.org/training/6RLlZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6rMAM', 'Rapid', 'Alexander_Kiselev', 1740, 'albertducon', 1738, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,Nge7,b4,Bb6,cxd4,O-O,a3,d5,exd5,Nxd5,O-O,Bg4,Qb3,Bxf3,Qxf3,Ndxb4,axb4,Qxd4,Qc3,Qg4,Be3,Bxe3,fxe3,a6,Nd2,Ne7,Nf3,Ng6,Ne5,Nxe5,Qxe5,Qxc4,Rac1,Qxb4,Rxc7,b5,e4,Rfe8,Qd5,Rf8,Rcxf7,Kh8,Kh1,h6,e5,Rad8,Qb7,Rxf7,Qxf7,a5', 'e6,Qe4,e7', 'https://lichess.org/training/6rMAM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6rMz4', 'Bullet', 'ysfkula', 1815, 'Jam3R0', 1812, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,a3,Be7,Be3,Nf6,f3,Qc7,Bd3,b5,Qd2,Bb7,O-O-O,b4,axb4,Nxb4,Kb1,O-O,g4,Rfb8,Nb3,Bc6,g5,Ne8,Bf4,e5,Bg3,a5,Bf2,a4,Nc5,a3,b3,a2+,Ka1,Qa5,Nxd7,Bxd7,Bc4,Rc8,Qxd7,Nxc2+,Kb2,Bb4', 'Qxf7+,Kh8,Qg8#', 'https://lichess.org/training/6rMz4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6RnJA', 'Rapid', 'chessboy2798', 1811, 'FeelMyHeat', 1793, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Nc3,Ngf6,d3,e6,Bf4,Be7,Nb5,O-O,O-O,a6,Nc3,Bb4,a3,Bxc3,bxc3,Rc8,Qd2,Qa5,Ne5,Qxc3,Nxd7,Nxd7,Qe3,Rc6,Qg3,Rfc8,Rab1,b5,a4,bxa4,Rb7,Nf8', 'Be5,Qxe5,Qxe5', 'https://lichess.org/training/6RnJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ROAM', 'Rapid', 'jake778', 2036, 'Allquantor', 1738, 'd4,Nf6,c4,e6,Nc3,b6,e4,d5,e5,Ne4,Nxe4,dxe4,Ne2,Bb7,Ng3,c5,Be3,cxd4,Qxd4,Bb4+,Ke2,Nc6,Qxd8+,Rxd8,a3,Be7,Nxe4,Nxe5,Nd2,Ba6,Ke1,Nd3+,Bxd3,Rxd3,Ke2,Rd7,Rac1,Rc7,Rhd1,Bf6,b4,Bb2,Rc2,Bxa3,Ra2,Bxc4+,Nxc4,Bxb4,Nd6+,Bxd6,Rxd6,Ke7,Rd3,Rhc8,Kf3,Rc2,Rxa7+,Kf6,Bxb6,Kg6,Ra4,f5,Ra7,Kh6,Bd4,g5,Re3,g4+,Kg3,Kg5,Rg7+,Kh5,Rxh7+,Kg6,Rg7+,Kh5,Rxe6,Rh8,Rg5+,Kxg5,Bxh8', 'f4#', 'https://lichess.org/training/6ROAM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6rP8s', 'Blitz', 'Solderpanas', 2082, 'Moejizat2', 2038, 'c4,e5,e3,Nf6,Nc3,d5,cxd5,Nxd5,Nxd5,Qxd5,b3,Nc6,Bb2,Bb4,a3,Be7,b4,Be6,Rc1,O-O-O,Nf3,g5,Bc4,Qd7,Bxe6,Qxe6,O-O,g4,Ne1,h5,f3,f5,fxg4,hxg4,Qc2,Rh5,Nd3,Bd6,b5,Na5,Qa4,b6,Nb4,e4,Nc6,Rxh2,Nxa7+,Kd7,Nc6,g3,Qd4,Rh1+,Kxh1', 'Qh6+,Kg1,Qh2#', 'https://lichess.org/training/6rP8s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6rSuW', 'Blitz', 'nahele123', 1566, 'reza8380', 1522, 'e4,c5,Nf3,g6,Nc3,d6,d4,Bg7,Be3,cxd4,Bxd4,Nf6,Bc4,O-O,O-O,Nc6,Qd3,Bg4,Rad1,a6,h3,Bxf3,Qxf3,Qc7,Bxf6,Bxf6,Nd5,Qd8,c3,Bg7,Rfe1,Ne5,Qe2,Nxc4,Qxc4,Rc8', 'Qxc8,Qxc8,Nxe7+,Kh8,Nxc8', 'https://lichess.org/training/6rSuW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6RuVj', 'Rapid', 'cevahir123', 1644, 'shodolom', 1642, 'd4,d6,e4,d5,e5,f6,Bf4,fxe5,Bxe5,Nc6,Bf4,h6,Nf3,Nf6,Bd3,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd1,Qd7', 'Bg6+,Kd8,Qxd4', 'https://lichess.org/training/6RuVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6RvPQ', 'Rapid', 'Mahirgoel', 1613, 'Andrej000022', 1656, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Ng5,Qxg5,O-O,Qg6,d3,Nf6,Nc3,O-O,a3,a6,b4,Ba7,Nd5,Nxd5,Bxd5,d6,Kh1,Nd4,Be3,c6,Ba2,Kh8,c3,Ne6,Bxa7,Rxa7,Bxe6,fxe6,d4,Qxe4,Re1,Qf5,dxe5,d5,Qd4,Ra8,Rf1,b5,f4,g5,g3,gxf4', 'Rxf4,Qxf4,gxf4', 'https://lichess.org/training/6RvPQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6rvXr', 'Rapid', 'momo_klaus', 2005, 'joseigal', 1960, 'e4,c5,c3,d5,exd5,Qxd5,d4,cxd4,cxd4,e5,dxe5,Qxe5+,Be2,Nf6,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O,Nc6,Nc3,Rd8', 'Qxd8+,Nxd8,Nxe5', 'https://lichess.org/training/6rvXr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6RXfd', 'Classical', 'Ruadh', 1634, 'Willits', 1674, 'e4,e5,Nc3,Bc5,Bc4,Nf6,d3,h6,f4,Nc6,Nf3,Qe7,Nd5,Nxd5,Bxd5,Qd6,Bxc6,bxc6,Nxe5,O-O,Qe2,Ba6,Be3,Bxe3,Qxe3,Qb4+,Qd2,Qxb2,O-O,d6,Nxc6', 'Qb6+,Rf2,Qxc6', 'https://lichess.org/training/6RXfd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6RYB1', 'Rapid', 'makalo', 1658, 'potato1470', 1748, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,d5,exd5,Nxd5,O-O,Bd6,Bxc6+,bxc6,h3,O-O,Nbd2,Qf6,Ne4,Qg6,Kh1,Nf4,Bxf4,exf4,Nxd6,cxd6,Qd2,Qf6,Rae1,Qxb2,Re4,Qxa2,Rxf4,Qe6,Re1,Qg6,Re7,Bf5', 'Nh4,Qf6,Nxf5', 'https://lichess.org/training/6RYB1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Rzin', 'Rapid', 'juice95', 1830, 'keitico', 2050, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,c4,Bxf3,Qxf3,Nf6,Nc3,e6,Bg5,Be7,cxd5,Nxd5,Bxe7,Nxe7,Bb5+,Nbc6,Rd1,O-O,O-O,a6,Bd3,g6,Ne4,Nd5,Bb1,f5,Ng3,Qb6,h4,Nf6,h5,gxh5,Nxh5,Nxh5,Qxh5,Qc7,Rfe1,Rf6,d5,exd5,Rxd5,Rd8,Rxf5,Rxf5,Bxf5,Qf7,Qg5+,Kh8,Be6,Qf8,Bf5,Qg7,Qh5,Rf8,Re8,Rxe8,Qxe8+,Qg8,Qd7,Ne5,Qxb7,Qg7,Qxg7+,Kxg7,Bc8,a5,Be6,Kf6,Bh3,h6,Kf1,Nd3,b3,Ke5,Ke2,Nc1+,Kd2,Nxa2,Ke3,Nc1,f4+,Kd6,f5,Nxb3,g4', 'a4,Bf1,a3', 'https://lichess.org/training/6Rzin');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Rzq4', 'Blitz', 'Vorrak', 1835, 'detrez', 1783, 'e4,c5,f4,d6,Nf3,Nc6,Bc4,e6,O-O,a6,f5,exf5,Bxf7+,Kxf7,c3,Nf6,Qb3+,Be6,Ng5+,Kg6,Nxe6,Qe7,exf5+,Kh6,d4+,Kh5,Nf4+,Kg4,dxc5,g5,h3+,Kh4,Nd3,Ne4,Qc4,Bg7,Nd2,Rhe8,g3+,Kxh3,cxd6,Qxd6,Nxe4,Rxe4,Qxe4', 'Qxg3+,Kh1,Qh2#', 'https://lichess.org/training/6Rzq4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6s4fG', 'Rapid', 'murat5989', 1679, 'rowethan', 1683, 'e4,e6,Nf3,d5,exd5,exd5,Be2,Nf6,O-O,Be7,d4,O-O,c3,Re8,Bd3,Bd6,h3,Ne4,Re1,f5,Nbd2,h6,Bc2,Nc6,Nh2,Qf6,Nxe4,fxe4,Be3,Bf5,f3,Re7,fxe4,Bxe4,Bxe4,Rxe4,Rf1', 'Bxh2+,Kxh2,Qd6+,Kg1,Rxe3', 'https://lichess.org/training/6s4fG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6s4qx', 'Blitz', 'maksimus25', 1684, 'williamdk', 1803, 'e4,e5,Bc4,Bc5,c3,d6,Nf3,Bg4,d3,h6,O-O,Nf6,Re1,O-O,Bb3,c6,Be3,Bxe3,Rxe3,Nbd7,Nbd2,Qb6,Nc4,Qc7,h3,Bh5,Qe1,b5,Ncd2,a5,Nh4,Nc5,Bc2,a4,Rg3,Ne6,Nf5,Bg6,h4,Nh5,Rf3,Nef4,Nf1,Rae8,N1g3,Nxg3,Rxg3,Nh5,Rf3,Qd8,Qd2,Kh7,Ng3,Qxh4,Nxh5,Bxh5,Rh3,Qg4,f3,Qg6,Kf2,f5,Rah1,Bxf3,Rxf3,f4,Bd1,Qf7,Rfh3,Re6,Bh5,Qe7,Bg4,Ref6,Bf5+,Kg8,Qe2,g6,Bg4,h5,Bxh5,gxh5,Rxh5,f3,gxf3,Rxf3+', 'Qxf3,Rxf3+,Kxf3,Qf6+,Rf5', 'https://lichess.org/training/6s4qx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ScTD', 'Rapid', 'Supstane', 1863, 'zshsd', 1816, 'g4,e5,Bg2,Nc6,e3,Bc5,d4,exd4,exd4,Nxd4,Be3,Qe7,b4,Bb6,c3,Nc6,Qd3,d6,h3,Bd7,Ne2,O-O-O,a4,Bxe3,fxe3,Re8,Kd2,Nf6,a5,Ne4+,Kc2,Nf2,Qd5,Nxh1,b5,Nd8,a6,c6,axb7+,Kxb7,bxc6+,Bxc6,Qb3+,Kc7', 'Rxa7+,Kc8,Rxe7', 'https://lichess.org/training/6ScTD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6sCVi', 'Classical', 'Netognos', 2001, 'drewant101', 1850, 'e4,g6,d4,Bg7,c4,Nc6,Nf3,e5,d5,Nb8,c5,b6,Be3,bxc5,Bxc5,d6,Bb5+,Bd7,Bxd7+,Qxd7,Ba3,Nf6,Nc3,O-O,Qb3,c6,O-O,cxd5,exd5,Na6,Qc4,Nc7,Rac1,Rfc8,Qd3,Rab8,Rfe1,Nb5,Nxb5,Rxb5', 'Rxc8+,Qxc8,Qxb5', 'https://lichess.org/training/6sCVi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6SdHf', 'Rapid', 'Alexander6174', 1644, 'WildOak', 1665, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,g6,Bc4,Bg7,O-O,O-O,e5,Ne8,Re1,Qb6,b3,Nc7,Na4,Qa5,Bd2,Qxe5,Rxe5,Bxe5,Bc3,Bf4,Qd4,e5,Qe4,d5,Qe2,dxc4,Bxe5', 'Re8,Qxc4,Bxe5', 'https://lichess.org/training/6SdHf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6sEa3', 'Rapid', 'GRIFFIN112358', 2023, 'HerrDiemer', 2220, 'e4,c5,Nf3,e6,Bc4,a6,a4,Nc6,c3,Rb8,d4,b5,Bb3,cxd4,cxd4,bxa4,Bxa4,Bb4+,Nc3,Nge7,O-O,O-O,Bf4,d6,Qe2,Bb7,Rfd1,Ng6,Bg3,Qb6,Bc2,Rbc8,Bd3,a5,Na4,Qa7,d5,exd5,exd5,Rce8,Qc2,Nce5,Nxe5,dxe5,Kh1,Rc8,Qe2,Rfe8,b3,Rcd8,Bc4,Bd6,Nc3,Kh8,Nb5,Qb6,Nxd6,Rxd6,f4,f6,f5,Ne7,Bf2,Qd8,Bc5,Nxf5,Bxd6,Nxd6,Rac1,Nf5,Qh5,g6,Qh3,Nd4,Rc3,f5,Rg3,Kg7,Rgd3,Bxd5,Rxd4', 'exd4,Bxd5,Qxd5', 'https://lichess.org/training/6sEa3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6SerX', 'Rapid', 'ChristophCV', 2174, 'Alma100', 1992, 'd4,Nf6,Nf3,d5,e3,Bf5,c4,Nc6,Nc3,e6,a3,Be7,Be2,O-O,O-O,dxc4,Bxc4,a6,Be2,Qd6,Nh4,Be4,Nxe4,Nxe4,Nf3,Qd5,Qc2,f5,Bc4,Qd6,b4,Qd7,Rd1,Rfd8,Bb2,Bf6,Qb3,Re8,Rac1,b5,Bd3,Rf8,Qc2,Ne7,Qxc7,Qd5,Qc2,Rac8,Qb1,Rfd8,Bxe4,fxe4,Nd2,Rf8,Nxe4,Bh4,g3,Bf6,Nxf6+,Rxf6,Rxc8+,Nxc8,Qc2,Nd6,Re1,Nc4,Bc1,e5,Rd1,e4,Qe2,Qf5,Kg2,Rh6,h4,Rf6,g4,Qd7,Rg1,Qc7,Rh1,Rf3,Rh3,Qc8,Rxf3', 'Qxg4+,Kf1,exf3', 'https://lichess.org/training/6SerX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6sFwJ', 'Classical', 'victorivlev', 2029, 'karimesmaeilpour2', 2122, 'Nf3,d5,d4,e6,e3,Nf6,c4,c6,Nc3,Nbd7,h3,Be7,a3,O-O,b4,dxc4,Bxc4,b5,Bb3,a5,bxa5,Qxa5,Bb2,Ne4,Qc2,Ndf6,Nd2,Nxd2,Qxd2,Bb7,O-O,Qb6,Rfc1,b4,axb4,Bxb4,Qc2,c5,Na4,Qc6,f3,Rac8,Nxc5,Qb6,Qd3,Bxc5,dxc5,Rxc5,Bd4,Rxc1+,Rxc1,Qd6,Qb5,Bd5,Bxd5,Nxd5,Qc5,Qg3,f4,h5,Rf1,Ra8,Rf3,Qg6,f5,Qg5,fxe6,fxe6,e4,Ra2,g3,Qd2', 'Qf8+,Kh7,Qxg7#', 'https://lichess.org/training/6sFwJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6sJye', 'Rapid', 'toral001', 1776, 'MarcelMoyse', 1712, 'e3,c5,a3,d5,h3,e5,b3,Nc6,Bb2,Nf6,Nf3,Bd6,Bb5,Qe7,O-O,a6,Bxc6+,bxc6,d4,cxd4,exd4,e4,Ne5,Bd7,Nxd7,Nxd7,c4,O-O,Qd2,Rab8,Nc3,Nf6,cxd5,cxd5,b4,Bc7,Qg5,Qd6,g3,h6,Qe3,h5,Ne2,h4,Qf4,hxg3,Qxd6,gxf2+,Rxf2,Bxd6,Rc1,Rbc8,Kg2,Rxc1,Nxc1,Rc8,Ne2,Rc2,Nc3,Rxf2+,Kxf2,Kf8,b5,axb5,Nxb5,Bb8,a4,Nd7,Ba3+,Ke8,a5,Kd8,Nc3,Nf6,a6,Ba7,Bc5,Bxc5,dxc5,Kc7,a7,Kb7,Nb5,Nd7', 'c6+,Kxc6,a8=Q+', 'https://lichess.org/training/6sJye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6so4A', 'Rapid', 'AlexeyKlimov', 2066, 'daxijo', 2128, 'e4,e5,Nf3,f5,d3,d6,Bg5,Be7,h4,h6,Be3,f4,Bd2,Nc6,Nc3,Be6,Qe2,a6,O-O-O,b5,g3,fxg3,fxg3,Bg4,Bh3,Nd4,Bxg4,Nxe2+,Nxe2,Nf6,Be6,c5,g4,Qb6,Ng3,Kd8,Nf5,Bf8,g5,Nh5,Rhg1,Ra7,gxh6,gxh6,Rg6,Nf4,Bxf4,exf4,d4,b4,dxc5,Qxc5,e5,Qf2,Nxd6,Bxd6,Rxd6+,Ke8,Ng1,Qe1+,Rd1,Qxe5,Bb3,a5', 'Re6+,Qxe6,Bxe6', 'https://lichess.org/training/6so4A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6SPKW', 'Rapid', 'Storosyan', 1818, 'kotlon', 1792, 'e4,e6,d4,d5,exd5,exd5,Nc3,c6,a3,Bd6,b4,Nf6,b5,O-O,Be2,Re8,Nf3,cxb5,O-O,b4,Nb5,bxa3,Bg5,a6,Nxd6,Qxd6,Bxf6,Qxf6,Rxa3,Bg4,h3,Bxf3,Bxf3,Qd6,Ra5,b5,c4,dxc4,Bxa8,Nd7,Bf3,Qb6,Ra2,a5,Rb2,c3,Rb3,b4,Qb1,Qxd4,Rd1,Qa7,Bc6,Re2,Rxd7,Qxf2+,Kh1', 'Re1+,Qxe1,Qxe1+', 'https://lichess.org/training/6SPKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6sreO', 'Rapid', 'Ukaszycz', 1737, 'bakkal61', 1787, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Nbd7,cxd5,Nxd5,Ne4,g6', 'Nd6+,exd6,Bxd8', 'https://lichess.org/training/6sreO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6SSOt', 'Rapid', 'hochjoch', 2089, 'SpielerXY', 2059, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Bg5,c5,d5,a6,Qd2,Nbd7,Nf3,b5,cxb5,axb5,Bxb5,Ba6,a4,Nxe4,Nxe4,Bxb5,Nxd6,Bxa4,O-O,f6,Ne4,fxg5,Nfxg5,Qb6,Ne6,Qxb2,Qe3,Rfb8,N4g5,Bd4,Qh3,Nf6,Nxd4,cxd4,Qe6+,Kh8,Qxe7,d3,Rab1,Qd4,Rxb8+,Rxb8,Ne6,Nxd5,Qd6,Qb6', 'Qe5+,Nf6,Qxf6+,Kg8,Qg7#', 'https://lichess.org/training/6SSOt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6stCW', 'Rapid', 'emadesawy', 1852, 'Migliorenzo', 1870, 'e4,e6,d4,d5,exd5,Qxd5,Nc3,Bb4,Qd3,b6,Bd2,Bxc3,Qxc3,Qc6,Nf3,Qxc3,Bxc3,Ba6,O-O-O,Bxf1,Rhxf1,Nf6,Bb4,Nc6,Ba3,O-O-O,Ng5,Rxd4,Nxf7,Re8,Rxd4,Nxd4,Ne5,Rd8,c3,Ne2+,Kc2,Nf4,g3,Ng6,Nc6,Rd7,Nxa7+,Kb7,Nb5,c6,Nd4,e5,Nf5,c5,f3,Nf8,Rd1,Rxd1,Kxd1,Ne6,b3,g6,Ne3,Ng5,Ke2,Kc6,c4,Ne6,Bb2,Nd4+,Kf2,Kd6,Bc1,h5,h4,Ke6,g4,hxg4,fxg4,Ne4+,Kg2,Nf6,Kh3,Ne2,Bd2,Nf4+,Kg3', 'Ne4+,Kf3,Nxd2+', 'https://lichess.org/training/6stCW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6SvDI', 'Blitz', 'fiercebadger', 1996, 'tonikabrera', 1960, 'd4,d5,Nf3,Nf6,e3,e6,Bd3,Bd6,b3,O-O,Bb2,c5,Nbd2,Nc6,Ne5,cxd4,exd4,Qc7,Ndf3,Nd7,Nxd7,Bxd7,Bxh7+,Kxh7,Ng5+,Kg6,h4,f6,h5+,Kxg5,Bc1+,Bf4,Rh4,Bxc1', 'Qg4+,Kh6,Qg6#', 'https://lichess.org/training/6SvDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6sVER', 'Rapid', 'ERZNICK', 1726, 'rigolator', 1727, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Nc2,Bxe3,Nxe3,Qe5,Nd2,d5,exd5,Nxd5,Nc4,Nxe3,Nxe3,Be6,Be2,Rd8,Qc2,O-O,O-O,Rd6,Rfd1,Rfd8,Rxd6,Rxd6,Rd1,g6,Rxd6,Qxd6,b3,a5,h3,b6,Bf3,Ne5,Be2,f5,f4,Nc6,g3,Bd5', 'Nxd5,Qxd5,Bc4,Qxc4,bxc4', 'https://lichess.org/training/6sVER');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Swhf', 'Rapid', 'Bamakot', 1881, 'Peter112', 1847, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,d5,Ne5,O-O,Nf6,Nxe5,dxe5,Qf3,O-O,Be3,Bxe3,Qxe3,Bd7,Nc3,a6,Qg3,Bg4,h3,Bh5,Qxe5,Bg6,Bd3,Re8,Qf4,b5,Rfe1,b4,Nd1,Nxd5,Qf3,Qd6,Bc4,Nb6,Bb3,a5,a3,a4,Ba2,b3,Bb1,Qd2,Qe3,Nc4,Qxd2,Nxd2,Nc3,Nc4,f3,f6,Re2,f5,Bd3,Nxa3,bxa3,fxe4,Nxe4,Rad8,Bb5,Bxe4,Bxe8,Rxe8,Rxe4,Rxe4,fxe4,Kf7,Rb1,Ke6,Kf2,Ke5,Ke2,Kxe4,g4,c5,Kd2,Kd4,Kc1,c4,Kb2', 'c3+,Ka1,b2+,Rxb2,cxb2+', 'https://lichess.org/training/6Swhf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6SXH0', 'Rapid', 'SHASHA14', 1728, 'amalakhov2', 1665, 'e4,e5,Bc4,Nf6,Nc3,Nc6,d3,Bb4,a3,Bxc3+,bxc3,d5,Bb3,dxe4,Ba4,O-O,Bxc6,bxc6,Ne2,Ng4,O-O,exd3,Qxd3,Qxd3,cxd3,Ba6,Rd1,Rad8,c4,e4,Bg5,Rd7,dxe4,Rxd1+,Rxd1,Bxc4,Nc3,f6,Bf4,Be2,Rd2,Bc4,Bxc7,Ne5,Bxe5,fxe5,f3,Rb8,Ne2,Rb3,a4,Ra3,Rd8+,Kf7,Rd7+,Ke6,Rxg7,Bxe2,Kf2,Bd1,Rxh7,Rxa4,Rh6+,Kd7,h4,c5,h5,c4,Rh7+,Ke6,Rc7,Bb3,h6,Ra2+,Kg3,Rd2,Rc8,Rd7,Kf2,Rh7,g4,Rxh6', 'Rc6+,Kf7,Rxh6', 'https://lichess.org/training/6SXH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6sXLB', 'Rapid', 'magdy102', 1740, 'bastonati', 1631, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,Bxc6+,bxc6,Bg5,Be7,Bxf6,Bxf6,O-O,O-O,Nbd2,Bg4,Qe1,Rb8,b3,Re8,Qe3,Rb6,Nc4,Rb7,Nfd2,d5,Na5,Rb6,c4,d4,Qe1,Be7,a3,Bd6,b4,Bf8,c5,Ra6,f3,Be6,f4,exf4,Rxf4,Bxc5', 'Nb7,Bd6,Nxd8', 'https://lichess.org/training/6sXLB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6sxpA', 'Rapid', 'omidian1339', 1685, 'Herzog51', 1701, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bf4,Nh5,Bg5,h6,Be3,Nf6,Qd2,Ng4,Bf4,Nc6,h3,Nf6,a3,a6,Bd3,b5,O-O-O,Nxd4,Nxd4,e5,Nc6,Qd7,Nxe5,dxe5,Bxe5,O-O,Bxf6,Bxf6,Qxh6,Bg7,Qh4,Qc6,Nd5,Re8,Ne7+,Rxe7,Qxe7,Be6,Kb1,Re8,Qb4,Bf8,Qd4,Bg7,Qe3,b4,axb4,Qa4,Qc5', 'Qa2+,Kc1,Bh6+', 'https://lichess.org/training/6sxpA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6t3xp', 'Classical', 'Raven8', 1754, 'shivasks', 1806, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Qf3,Be6,Nc3,c6,Nxd5,cxd5,Bb5+,Nd7,Ne2,Be7,Qg3,Bf6,O-O,O-O,a4,a6,Bxd7,Bxd7,c3,Re8,f4,Bh4,Qe3,exf4,Qd2,g5,g3,fxg3,hxg3,Rxe2,Qxe2,Bxg3,Qf3,Bf4,Bxf4,gxf4,Qxd5,Qb6+,d4,Qg6+,Qg2,Qg3,Qxg3+,fxg3,Kg2,Re8,Kxg3,Re3+,Rf3,Rxf3+,Kxf3,h5,Rh1', 'Bc6+,Kf4,Bxh1', 'https://lichess.org/training/6t3xp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6t6M1', 'Rapid', 'Vstern', 1977, 'Pavel1962', 2069, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,O-O,O-O,d4,exd4,cxd4,Bb6,d5,Ne7,Nc3,d6,Bg5,Ng6,h3,h6,Bd2,Re8,Re1,a6,b4,Bd7,a4,Ne5,Nxe5,Rxe5,a5,Bd4,Rc1,Bxc3,Bxc3,Rxe4,Rxe4,Nxe4,Bd4,Qg5,Be3,Qg6,Qf3,Ng5,Qg3,Nxh3+', 'gxh3,Qxg3+,fxg3', 'https://lichess.org/training/6t6M1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6t9DW', 'Blitz', 'ciccio_sprint', 2272, 'FM MithrasMonkey', 2313, 'f4,d5,Nf3,Bg4,e3,Nd7,b3,e5,h3,Bxf3,Qxf3,exf4,exf4,Ngf6,Bb2,Bd6,Nc3,c6,O-O-O,O-O,Bd3,a5,g4,a4,g5,Ne8,Nxa4,b5,Nc3,Ba3,f5,Qa5,f6,Bxb2+,Kxb2,Qa3+,Kb1,g6,h4,Nc5,h5,b4,Qh3,bxc3,dxc3,Na4,bxa4,Rb8+,Bb5,cxb5,a5,b4,c4,Qxh3,Rxh3,dxc4,Rdh1,Rb7,hxg6,fxg6,Rh4,Nd6,a6,Ra7,Rd1,Rxa6,Rdh1,Rf7,Rd4,Nb5,Rd8+,Rf8,Rd7,Nc3+,Kc1,Rf7,Rd8+,Rf8,Rd7,Rf7,Rxf7,Kxf7,Rxh7+,Ke6,Re7+,Kd5', 'f7,Ra8,Re8', 'https://lichess.org/training/6t9DW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Ta4G', 'Rapid', 'xusel', 1815, 'RajG08', 1831, 'e4,c5,Nc3,Nf6,Nf3,e5,Nxe5,Qe7,d4,d6,Bb5+,Bd7,Nxd7,Nbxd7,Bg5,cxd4,Nd5', 'Qxe4+,Qe2,Qxe2+,Bxe2,Nxd5', 'https://lichess.org/training/6Ta4G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6talh', 'Bullet', 'Airgead', 1573, 'esteimling', 1542, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,Nf3,Bxf3,gxf3,Nc6,d3,Nd4,f4,Qe6,Bd2', 'Nf3+,Kf1,Qh3#', 'https://lichess.org/training/6talh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tdn0', 'Rapid', 'selectedHawk', 1807, 'yankar', 1795, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,e3,Nbd7,b3,Bb4,Bd2,O-O,Bd3,Bd6,O-O,Re8,Re1,e5,dxe5,Nxe5,Nxe5,Bxe5,Rc1,Bg4,Qc2,d4,Ne4,Nxe4,Bxe4,Qh4,f4,Bf6,h3,Bd7,Kh2,Re7,Qd3,Rae8,exd4,h6,Re2,g5,Be1', 'Qxf4+,Bg3,Qxc1', 'https://lichess.org/training/6tdn0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tdOQ', 'Blitz', 'pouchon', 1802, 'mohamed_abdullbar', 1823, 'd3,g6,e4,Bg7,f4,d6,Nf3,Nd7,Be2,Ngf6,c3,O-O,Nbd2,e5,fxe5,Nxe5,Nxe5,dxe5,O-O,Be6,Nf3,Nd7,Be3,Qe7,b4,Rad8,a4,Nb6,a5,Nc4,Bxa7,b6,axb6,Nxb6,Bxb6,cxb6,Qc2,b5,Ra5,Rb8,Rfa1,Rfc8,Qd1,Rxc3,Qd2,Rb3,Ra8,Rxa8,Rxa8+,Bf8,Qh6,Rxb4,Ng5,f5,exf5,Bxf5', 'Rxf8+,Qxf8,Qxh7#', 'https://lichess.org/training/6tdOQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6teeu', 'Blitz', 'torta34', 2668, 'IM Machinegunusa', 2523, 'd4,d5,c4,dxc4,Nf3,c5,e3,cxd4,Bxc4,Nc6,exd4,e6,O-O,Nf6,Nc3,Be7,Bg5,O-O,a3,h6,Bh4,a6,Qd3,b5,Ba2,b4,Na4,bxa3,bxa3,Qa5,Nc5,Rd8,Bxf6,Bxf6,Ne4,Bxd4,Nxd4,Rxd4,Qf3,Ne5', 'Nf6+,gxf6,Qxa8', 'https://lichess.org/training/6teeu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tG4n', 'Rapid', 'kare64', 1840, 'SVRKHEE', 1766, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,g3,Nxe4,dxe4', 'Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/6tG4n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tJ38', 'Rapid', 'monia1939', 1916, 'Cassio1913', 1884, 'e4,Nf6,Nc3,Nc6,d4,e6,a3,Be7,Nf3,O-O,Bd3,d5,e5,Nd7,h3,f6,exf6,Bxf6,Be3,e5,Nxd5,exd4,Nxf6+,Nxf6,Bxd4,Re8+,Kf1,Nxd4,Nxd4,Qxd4', 'Bxh7+,Kxh7,Qxd4', 'https://lichess.org/training/6tJ38');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tjNR', 'Rapid', 'sodel', 2221, 'Hadipnp', 2070, 'e4,c5,Nf3,Nc6,c4,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,O-O,a6,f3,Bd7,Qd2,Re8,b3,Rc8,Rac1,Nxd4,Bxd4,Bc6,Kh1,Qd7,Be3,Qe6,Nd5,Bxd5,exd5,Qd7,Qd3,e6,Rfe1,exd5,cxd5,Nxd5,Rxc8,Qxc8,Bf2,Nf4,Qd2,Nxe2,Rxe2,Rxe2,Qxe2,Qc1+,Qe1,Qxe1+,Bxe1,Kf8,Kg1,Ke7,Kf1,Ke6,Ke2,Kd5,Kd3,b5,h3,f5,Bd2,Bd4,Be1,Be5,Bd2,Kc5,Be1,d5,Bd2,h5,Be1,Bd4', 'b4+,Kd6,Kxd4', 'https://lichess.org/training/6tjNR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6TklL', 'Blitz', 'josehectorr', 1856, 'gerardohurtado', 1838, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,h6,Nd5,Nf6,Nxf6+,Qxf6,Nc4,b5,Nb6,Rb8,Nxc8,Rxc8,Be3,Be7,Be2,O-O,O-O,Qh4,f3,f5,exf5,Rxf5,a4,Rd8,Qd5+,Kh8,Qxc6,d5,axb5,Rh5,h3,Qg3,Bf2,Qg5,Kh1,Rd6,Qe8+,Kh7,Bd3+,e4,fxe4,Rg6,Rg1,Qg4,Bf1,Bh4,Bxh4,Rxh4,bxa6', 'Rxh3+,gxh3,Qxg1#', 'https://lichess.org/training/6TklL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tL0L', 'Blitz', 'nea83', 1628, 'iffy-player', 1576, 'd4,e5,Nf3,exd4,Nxd4,Nf6,c3,Bc5,Be3,d6,Bf4,a6,e3,O-O,Bd3,Be6,h3,Nbd7,Nd2,Ne5,Bc2,Nd5,Bxe5,dxe5,Nxe6,fxe6,Ne4,Qh4,g3,Qe7,Nxc5,Qxc5,Qd3,g6,O-O-O,Rxf2,e4,Qe3+,Kb1,Qxd3,Bxd3,Raf8,exd5,exd5,Rhf1,Rxf1,Rxf1,Rxf1+,Bxf1,c6,Kc2,Kf7,Kd3,Kf6,Ke3,a5,a3,b6,b4,g5,Ba6,c5,Bb7,Ke6,bxc5,bxc5,Ba6,h6,g4,Kd6,Bf1,c4,Kf3,Kc5,Ke3,d4+,cxd4+,exd4+,Kd2,Kb5,Kc2,Kc5,Kb2,c3+,Kc2,Kd5,Bd3,Ke5,Kb3,Kf4,Kc4,Ke3,Bc2', 'Kd2,Bb1,c2,Bxc2,Kxc2', 'https://lichess.org/training/6tL0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tlKL', 'Rapid', 'bichopebitou', 1972, 'Humangazor', 1867, 'd4,d5,Bf4,Nc6,e3,e6,Bd3,Bd6,Bg3,Nge7,c3,a6,Nd2,h5,Bh4,Qd7,f4,Na7,Ngf3,b6,Ne5,Bxe5,fxe5,c5,O-O,Bb7,Qf3,O-O-O,Qxf7,Nac6,e4,cxd4,cxd4,Rde8,exd5,Qxd5,Rac1,Kb8,Nb3,Nxd4,Rf3,Nxf3+,Qxf3,Qxe5', 'Bg3,Bxf3,Bxe5+,Ka7,gxf3', 'https://lichess.org/training/6tlKL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Tm5d', 'Rapid', 'VieuxLoupDeMer', 2145, 'Williamvillao', 1908, 'g3,e5,Bg2,d5,Nf3,Nc6,O-O,Nf6,c4,dxc4,Qa4,Bd6,Qxc4,O-O,d3,Be6,Qc2,Rb8,a3,Ne7,b4,c6,Bb2,Ned5,Nxe5,Re8,Nc4,Bc7,e3,Nb6,Nbd2,Qe7,d4,Rbd8,Nxb6,Bxb6,Nc4,Bc7,Ne5,Bxe5,dxe5,Nd5,Rfd1,g6,e4,Nb6,Rxd8,Rxd8,Rd1,Nc4,Rxd8+,Qxd8,h4,b5,h5,Qg5,hxg6,hxg6,Bd4,a6,Qc3,Qg4,f4,Qd1+,Kh2,Bg4,e6,Bxe6,Bh8', 'Qh5+,Kg1,Qxh8', 'https://lichess.org/training/6Tm5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tMvq', 'Rapid', 'PUIG-98', 2010, 'evgustim', 1821, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,Nf6,g3,a6,Bg2,c5,Nf3,Nc6,O-O,Bg4,h3,Bh5,Nd5,O-O,Nxe7+,Qxe7,Re1,Bxf3,Bxf3,Ne5,Bg2,Rad8,Bg5,h6,Be3,Nc4,Qc1,Nxe3,Qxe3,Qc7,Rad1,Rfe8,Qf4,Re7,Rd2,Ne8,Red1,f6,Qf5,Re5,Qg6', 'Rg5,Qf5,Rxf5', 'https://lichess.org/training/6tMvq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6toKc', 'Blitz', 'prikitiw', 2383, 'Chuldum', 2466, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb5,a6,N5c3,Nf6,Bg5,Be7,Be2,Be6,O-O,O-O,a4,Nc6,Nd2,Nd4,Nf3,Nxe2+,Qxe2,Rc8,Rfd1,Qb6,Bxf6,Bxf6,Rab1,Rc4,h3,Rfc8,Nd2,Rb4,Nb3,Qc7,Rd2,Bg5,Rdd1,g6,Na1,Qb6,Nb3,h5,Nd5,Bxd5,Rxd5,Rbc4,Na1,Rxa4,b3,Ra2,Rbd1,Be7,g4,hxg4,Qxg4,Rc3,h4,Qb4,h5,Kg7,hxg6,fxg6,Qd7,Kf6', 'Rxd6+,Bxd6,Rxd6+,Qxd6,Qxd6+', 'https://lichess.org/training/6toKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tolU', 'Classical', 'svlk', 1780, 'kahf', 1804, 'e4,c5,Nf3,e6,c4,Nc6,Be2,d5,exd5,exd5,d3,dxc4,dxc4,Qxd1+,Bxd1,Nf6,Bg5,Be7,O-O,Be6,b3,h6,Be3,Ng4,Na3,Nxe3,fxe3,O-O-O,Nc2,Bf6,Rc1,Bf5,a3,Bb2,Rb1,Bxc2,Bxc2,Bxa3,Nh4,Ne5,Ra1,Bb4,Rxa7,Bd2,Nf3,Bxe3+,Kh1,Nxf3,Rxf3,Rd2,Ra2,Re2', 'Bf5+,Kb8,Rxe2', 'https://lichess.org/training/6tolU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Tom3', 'Classical', 'z7z111z7z', 1628, 'Legendary_Creature', 1894, 'd3,d5,e4,Nf6,Bg5,dxe4,c3,exd3,Bxd3,h6,Qa4+,Bd7,Qh4,Nc6,Bxf6,exf6,Qe4+,Be7,Nf3,f5,Qe3,O-O,O-O,Bg5,Qe2,Re8,Qc2,Ne5,Nxg5,Qxg5', 'f4,Qf6,fxe5', 'https://lichess.org/training/6Tom3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Tpf8', 'Blitz', 'caribeandog', 2219, 'erginyildizz', 2302, 'd4,d5,c4,c6,Nf3,Nf6,Qb3,a6,cxd5,cxd5,Nc3,Nc6,Bg5,Na5,Qc2,Bg4,Ne5,Bh5,e3,Rc8,Bxf6,gxf6,Nd3,Rg8,b4,Nc4,Qa4+,Rc6,Nc5,b5,Nxb5,axb5,Qxb5,Qb6,Bxc4,dxc4,Qxc4,Rxg2,b5,Qa5+,Kf1,Rxf2+,Kxf2,Qd2+,Kf1,Bh6,Rg1,Rxc5,dxc5,Bxe3,Rg8+,Kd7,c6+,Kc7,b6+,Bxb6,Rg2,Qe3,Re1', 'Qf3+,Rf2,Qxf2#', 'https://lichess.org/training/6Tpf8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tQMx', 'Rapid', 'MILI06', 1853, 'sebastiangima', 1956, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,h3,h6,d4,exd4,cxd4,Bb6,Nc3,Nge7,O-O,O-O,Nd5,Nxd5,Bxd5,Ne7,Bc4,c6,Bf4,d5,exd5,Nxd5,Bg3,Be6,Re1,Bc7,Ne5,Bf5,Qh5,Bxe5,Bxe5,Bg6,Qf3,f6,Bg3,Qd7,Bxd5+,cxd5,Rac1,Rac8,a3,Rc4,Rxc4,dxc4,Qc3,Bd3,Qb4,Qxd4,Qxb7,h5,Re7,h4,Rxg7+,Kh8,Qe7,Rd8,Bd6', 'Qxd6,Qxd6,Rxd6', 'https://lichess.org/training/6tQMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6TqUm', 'Rapid', 'Adill44', 1604, 'lmfigo', 1643, 'd4,Nf6,Bf4,d6,Nf3,Nc6,e3,a6,Bg3,Bg4,h3,Bh5,Be2,Ne4,Nbd2,Nxg3,fxg3,e5,g4,Bg6,Nb3,Nb4,Bd3,Bxd3,cxd3,Qd7,a3,Nd5,e4,Nf4,Qd2,Qb5,Nc1,Be7,dxe5,dxe5,g3,Nxd3+,Nxd3,Rd8,Rd1,Qc4,Nfxe5', 'Qxe4+,Qe2,Qxh1+', 'https://lichess.org/training/6TqUm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6TSMJ', 'Blitz', 'kvant19', 1758, 'cjedman9', 1606, 'f4,d5,Nf3,Bg4,e3,Bxf3,Qxf3,Nc6,Bb5,a6,Ba4,b5,Bb3,e6,a3,Nf6,c4,bxc4,Bxc4,Ne4,d3,dxc4,Qxe4,Qd7,Qxc4,Bd6,O-O,O-O,Nc3,Rad8,Ne4,Be7,d4,f5,Ng5,Bxg5,fxg5,Na5,Qb4,Nc6,Qb3,Na5,Qb4,Nc6,Qc5,Ne7,Bd2,Nd5,Rac1,Rb8,Qc6,Qxc6,Rxc6,Rxb2,Bb4,Nxe3,Re1,Rxg2+,Kh1,Rc2,Rxe6,Ng4,Bxf8,Rxh2+,Kg1,Kxf8,Re8+,Kf7,R8e7+,Kg6,Rxc7,Kxg5,d5,Rd2,Rxg7+,Kh4,Rxh7+,Kg5,Rd7,Kf6,Re6+,Kg5,d6,Rd1+,Kg2,Rd2+,Kf3', 'Rf2+,Kg3,f4+,Kh3,Rh2#', 'https://lichess.org/training/6TSMJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tsTO', 'Rapid', 'eisbaerHH', 2067, 'Goodmoves1155', 2147, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Bc4,Bg4,f3,Bf5,Nc3,c6,dxc6,Nxc6,Nge2,e5,Ng3,Bg6,d3,Bc5,Bb5,O-O,Bxc6,bxc6,Qe2,Qb6,Nge4,Nxe4,Nxe4,Bd4,c3,Bxe4,dxe4,Qa5,Bd2,Bb6,a4,Qc5,b4,Qe7,a5,Bd8,O-O,Qe6,Be3,Be7,Rfd1,g6,Rd3,f5,exf5,gxf5,Rf1,f4,Bf2,Kh8,Re1,Bf6,Qd2,Be7,Rd1,Rg8,Kh1,Rg6,Rg1,Rag8,Bc5,Rh6,Bxe7', 'Rxh2+,Kxh2,Qh6+,Bh4,Qxh4#', 'https://lichess.org/training/6tsTO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6TTjk', 'Rapid', 'Ggentil', 1823, 'Spicaa', 1923, 'e4,c5,c3,d5,exd5,Qxd5,Qf3,e6,Na3,Nc6,Nb5,Qd7,Bc4,a6,Na3,b5,Bd3,Bb7,Be4,Nf6,Ne2,Nxe4,Qxe4,Nd4,Qd3,Nxe2,Qxe2,Bxg2,Rg1,Bh3', 'Qf3,Rb8,Qxh3', 'https://lichess.org/training/6TTjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tTzs', 'Rapid', 'bimbociccione', 1786, 'schultze', 1818, 'c4,e5,Nc3,Nf6,g3,c6,Bg2,d5,cxd5,cxd5,d3,Bb4,Bd2,Nc6,a3,Ba5,b4,Bb6,Nf3,O-O,b5,Nd4,Nxe5,Re8,Nf3,Bg4,Nxd4,Bxd4,f3,Bxc3,Bxc3,d4,Bb4,Nd5,Bd2,Bf5,f4,Bxd3,O-O,Bxe2,Qb3,Ne3,Rfe1,Bc4,Qb4,Bd5,Bxd5,Qxd5,Bxe3,Rxe3,Rxe3,dxe3,Qe7,Qd4,Re1,e2+,Kg2,Qd5+,Kg1,Qxb5,Rxe2,h6,Re5,Qb1+,Kg2,Rc8,Qd7,Rc2+,Kh3,Qf1+,Kg4,g6', 'Re8+,Kg7,Qd4+,Kh7,Rh8#', 'https://lichess.org/training/6tTzs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6TUW8', 'Rapid', 'notsoyoungme', 1983, 'BerndHeld', 2018, 'd4,c5,Bf4,cxd4,Qxd4,Nc6,Qd1,e5,Bg3,d5,e3,Nf6,Nf3,Bd6,Be2,e4,Nd4,Nxd4,Qxd4,O-O,Nc3,Bxg3,hxg3,Be6,O-O-O,Qa5,Kb1,Rac8,g4,Rc6,g5,Ng4,Bxg4,Bxg4,Qxd5,Qb4,Rd4,Qe7,Qxe4,Qxe4,Rxe4,Bf5,Rd4,Rfc8,e4,Be6,Rhd1,g6,Rd8+,Rxd8,Rxd8+,Kg7,f4,a6,a4,Bc4,g4,b5,axb5,axb5,f5,gxf5,gxf5,b4,Nd5,Rc5,Rd7,b3,cxb3', 'Bd3+,Ka1,Ra5#', 'https://lichess.org/training/6TUW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6TZd1', 'Rapid', 'E230699', 1657, 'SIFU1', 1676, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,Nf6,Nc3,Bb4,Bd3,Qe7,f3,Ne5,Ne2,Nxd3+,cxd3,d5,e5,Qxe5', 'Qa4+,Nd7,Qxb4', 'https://lichess.org/training/6TZd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6tzIk', 'Rapid', 'TheNextGalileo', 2221, 'ScottPilgrim', 2222, 'e4,c6,d4,d5,e5,Bf5,h4,h5,c4,e6,Nc3,Ne7,Bg5,Qb6,Qd2,dxc4,Bxc4,Nd7,Nf3,Bg4,Qe3,Nf5,Qd3,Bxf3,gxf3,Qxd4,O-O-O,Qxd3,Bxd3,Nd4,Be4,c5,Be3,O-O-O,Bxd4,cxd4,Rxd4,Nxe5', 'Bxb7+,Kc7,Nb5+,Kxb7,Rxd8', 'https://lichess.org/training/6tzIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6u88j', 'Blitz', 'locutorada', 1706, 'dwiGanden', 1749, 'e4,d5,Nf3,dxe4,Ne5,c6,Qh5,g6,Qg5,Nf6,Bc4,e6,Nc3,Be7,Qh6,Qd4,Qg7,Rg8,Qxf7+,Kd8,Bxe6,Rf8,Nxc6+,Nxc6,Qg7,Nh5,Qxh7,Qxf2+,Kd1,Nd4,d3,Qf1+,Rxf1', 'Rxf1+,Kd2,Bg5#', 'https://lichess.org/training/6u88j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uAMe', 'Rapid', 'Zerocuber788', 1781, 'Kerelos_Nageh', 1793, 'e4,d6,Nf3,g6,Nc3,Bg7,d4,Nf6,Bg5,O-O,Bxf6,Bxf6,Bd3,Nd7,O-O,c5,dxc5,Nxc5,a3,a5,Rb1,a4,Nd5,Bg7,h3,Nxd3,Qxd3,e6,Nb4,d5,exd5,exd5,Qxd5,Be6,Qxd8,Rfxd8,c3,h5,Rbd1,Kh7,Rxd8,Rxd8,Re1,Kh6,h4,Bg4,Ng5,Rd2,f3,Bf5,Re7,f6,Nf7+,Kh7,Rxb7,Rxb2,Ra7,g5,Rxa4,Be6,Nd8,Bd7,Ra7,Rd2,hxg5,fxg5,Nf7,g4,fxg4,Bxg4,c4', 'Bd4+,Kh2,Bxa7', 'https://lichess.org/training/6uAMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6UC04', 'Rapid', 'abvgdeyozh_1', 1809, 'Anatolii_Voronkov', 1809, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Bd3,Nc6,Nf3,cxd4,Nxd4,Nxe5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Be7,Qf3,Ngf6,Re1,O-O,Nf5,Qd8,Nxe7+,Qxe7,Bg5,Rac8,Qg3,h6,Bxh6,Nh5,Qg4,Ndf6,Qg5,Rc4,h3,Kh7,g4,gxh6,Qe3,Nf4,Nd2,d4,cxd4,N6d5,Qe4+,f5,gxf5,Rxf5', 'Qxf5+,exf5,Rxe7+,Nxe7,Nxc4', 'https://lichess.org/training/6UC04');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6UD3o', 'Classical', 'kjoe', 1937, 'Artola1', 1918, 'e4,c5,c3,d6,Nf3,Nf6,Bd3,Nc6,O-O,Bg4,Bc2,Ne5,h3,Nxf3+,gxf3,Bxh3,Re1,e5,Kh2,Qd7,d4,Qe6,dxe5,dxe5,Ba4+,Nd7,Qxd7+,Qxd7,Bxd7+,Bxd7,Be3,Be7,Nd2,b6,Rad1,f6,Nc4,Be6,Na3,Bxa2,Ra1,Be6,Nb5,Kf7,Nc7,Rad8,Rxa7,Rd7,Rea1,Bc4,Rb7,Rc8,Raa7,Bd8,Nd5,Rxb7,Rxb7+,Kg6,f4,Bxd5,f5+,Kh5,exd5,g6', 'Rxh7+,Kg4,fxg6', 'https://lichess.org/training/6UD3o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6UdaZ', 'Rapid', 'naseavanture', 1928, 'Svod02', 1833, 'e4,e5,Bc4,c6,Ne2,Bc5,O-O,Nf6,Ng3,d5,exd5,cxd5,Bb5+,Bd7,Be2,O-O,d3,e4,Bg5,Be7,Bxf6,Bxf6,d4,Qb6,c3,Qxb2,Qb3,Qxa1,Na3,Ba4,Rxa1,Bxb3,axb3,b6,Nb5,Nc6,Nf5,a6,Nc7,Ra7,Nxd5,b5,b4,Rd8,Nxf6+,gxf6,f3,exf3,Bxf3,Ne7,Nh6+,Kg7,Ng4,Rc7,Rxa6,Rxc3,Nxf6,Rxd4,Nh5+,Kf8,Ra8+,Rc8,Ra7,Rd2,h3,Nf5,Rb7,Nh4,Be4,Rd4,Bxh7,Rxb4,Kh2,Rb2,Be4,b4,Bd5,b3,Rxf7+,Ke8', 'Nf6+,Kd8,Rd7#', 'https://lichess.org/training/6UdaZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uE0Q', 'Rapid', 'fogof', 2198, 'slisse', 2070, 'e4,c5,Nc3,b6,f4,Bb7,g3,f5,d3,fxe4,dxe4,Nf6,Bg2,d6,Nge2,g6,O-O,Bg7,e5,Bxg2,exf6,Bxf1,fxg7,Rg8,Kxf1,Rxg7,Ne4,Rf7,Qd5,Nd7,Ng5,Rf5,Qg8+,Rf8,Qxh7,Nf6,Ne6,Nxh7,Nxd8,Kxd8,Kg2,Kd7,a4,a6,Nc3,Rf5,g4,Rf7,Be3,Kc6,Rd1,Nf6,Kg3,Rh8,h4,d5,Bf2,d4,Ne2,Ne4+,Kf3,Nxf2,Kxf2,Rxh4,Kg3,Rh8,c3,dxc3,bxc3,e6,c4,Rd7,Rxd7,Kxd7,Nc3,Kc6,Ne4,Rd8,Ng5,Rd3+,Kf2,Kd7,Ke2,Rd4,Ke3,Rxc4,Nf7,Rxa4,Ne5+,Kd6,Nxg6,Rd4,Ne5,a5,g5,a4,g6,Ke7,g7,Rd8,Nc6+,Kf7,Nxd8+,Kxg7,Nxe6+', 'Kf6,Ng5,a3', 'https://lichess.org/training/6uE0Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6UeBk', 'Blitz', 'r3mba', 1685, 'myllynparsa', 1714, 'd4,Nf6,c4,g6,Nf3,d5,e3,Bg7,Nc3,c6,Bd3,O-O,Bd2,Ne8,O-O,e5,dxe5,Nd7,cxd5,Nxe5,Be4,Nd6,dxc6,Nxc6,Bxc6,bxc6,e4,Bg4,h3,Be6,e5,Nf5,Bf4,Qb6,Ne4,Rad8,Qc2,Bd5,Rad1,Bxa2,Rxd8,Rxd8,Nd6,Bd5,Ng5,Nd4,Qd3,Qxb2,Qa6,Ne2+,Kh2,Nxf4,Qxa7,Bxe5,Ndxf7,Nd3+,g3,Bxg3+,Kxg3,Rf8', 'Nh6+,Kh8,Qxh7#', 'https://lichess.org/training/6UeBk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uEQ4', 'Rapid', 'ztraynor', 1811, 'Sledgegray', 1959, 'Nf3,Nf6,c4,e6,g3,d5,b3,c6,Bb2,Nbd7,e3,Bd6,Bg2,O-O,O-O,Re8,d4,a6,a4,dxc4,bxc4,Bc7,Ne5,Nxe5,dxe5,Qxd1,Rxd1,Nd7,f4,Bb6,Kf2,Nc5,Ra3,Ba7,Ke2,Bd7,Bd4,Rad8,Bxc5,Bxc5,Rad3,Re7,Rb3,b5,cxb5,cxb5,axb5,Ree8,bxa6,Ba4,Rxd8,Rxd8,Rb7,Bc2,Nc3,Bd3+,Kf2,Bxa6,Rc7,Bb4,Ne4,h6,h4,Rd1,Ra7,Bd3,Rd7', 'Be1+,Kf3,Bxe4+', 'https://lichess.org/training/6uEQ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Ufl3', 'Classical', 'chris0001', 1806, 'el_perro_orfeo', 1869, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,Nc3,Nf6,f3,d6,Nxc6,bxc6,Qd2,O-O,g4,Be6,h4,Qa5,Bh6,d5,Bxg7,Kxg7,e5,Ng8,h5,f5,hxg6,hxg6,Qh2,Kf7,Qh7+,Ke8,Qxg6+,Kd7,O-O-O,Rab8,gxf5,Bxf5,Qg5,Rxb2,Kxb2,Qb4+,Kc1,Qxc3,Bd3', 'Bxd3,Rxd3,Qa1+,Kd2,Qxh1', 'https://lichess.org/training/6Ufl3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uGmO', 'Blitz', 'benvoilakoi', 1728, 'Plyr-1', 1803, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bg5,Be7,f4,Qc7,Bb3,b5,e5,dxe5,Bxf6,Bxf6,fxe5,Qxe5+,Nde2,O-O,O-O,Bb7,Ng3,Qc7,Qg4,Qc6,Nge4,Bxc3,Nxc3,Nd7,Rf2,Nf6,Rxf6,b4,Nd5,Kh8,Ne7,Qc7,Rxe6,fxe6,Qxe6,Qc5+,Kh1,Qf2', 'Ng6+,hxg6,Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/6uGmO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uidt', 'Rapid', 'andi3dd', 1894, 'Bardissaire', 1612, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Qf6,Nc3,a6,Bd3,g6,O-O,Qxd4', 'Bb5+,axb5,Qxd4', 'https://lichess.org/training/6uidt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uJLv', 'Rapid', 'vijayhallur999', 1948, 'dmkwis', 1913, 'd4,e6,e4,c5,c3,cxd4,cxd4,Nf6,Nc3,Bb4,e5,Ne4,Qc2,Qa5,Ne2,Nxc3,bxc3,Be7,g3,Nc6,Bg2,b6,O-O,Ba6,Re1,Rc8,Bd2,Bxe2,Rxe2', 'Nxd4,cxd4,Rxc2,Bxa5,Rxe2', 'https://lichess.org/training/6uJLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6um87', 'Blitz', 'Titotnk', 1855, 'Sergey196', 1935, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Nf6,Bf4,Bg4,Qb3,Bc8,Nd2,e6,h3,Bd6,Bxd6,Qxd6,Ngf3,O-O,O-O,Na5,Qc2,h6,Rac1,Bd7,Rfe1,a6,Ne5,b5,Ndf3,Nc4,Qe2,Bc8,Bb1,Bb7,b3,Na3,Bd3,Rac8,Qb2,Rc7,b4,Nc4,Nxc4,dxc4,Bb1,Bxf3,gxf3,Qf4,Qe2,Rd8,Qe3,Qh4,Kh2,Rd5,Rg1,Rh5,Rg3,Rd7,Rcg1,g6,Bxg6,fxg6,Qxe6+,Kh7', 'Rxg6,Qxh3+,Qxh3,Rxh3+,Kxh3', 'https://lichess.org/training/6um87');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6UnKc', 'Rapid', 'denzelmaqhekeza', 2184, 'Baam38', 2039, 'e4,c5,Nf3,g6,Bc4,e6,Nc3,a6,a4,Bg7,O-O,Ne7,Re1,Nbc6,d3,O-O,Bg5,Re8,Qd2,Qb6,Rab1,Nd4,Nxd4,Bxd4,h4,Nc6,h5,Qc7,hxg6,hxg6,Bf4,Qd8,Ne2,Bg7,Bg5,Qc7,c3,Rb8,Bf4,d6,d4,cxd4,cxd4,Nxd4,Rbc1,Nxe2+,Qxe2,Qe7,Qf3,b5,axb5,axb5,Bb3,Bb7,Qg3,Rbd8,Rc2,Bf6,Qh3,Rc8,Rd2,Red8,f3,Rb8,Red1,e5,Be3,Bc8,Qh6,Bg7,Qh2,Bf6,Bd5,Kg7', 'Qh6+,Kg8,Qxg6+', 'https://lichess.org/training/6UnKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uPZ6', 'Rapid', 'raultorresky', 1979, 'Ataginec', 2041, 'e4,e5,f4,d6,Nf3,exf4,Bc4,Be7,O-O,Nf6,Nc3,O-O,d4,c6,Bxf4,d5,exd5,cxd5,Bd3,h6,Qd2,h5,Rae1,Bd6,Ne5,Nc6,Bg5,Be7,Ne2,Ne4,Bxe7,Qxe7,Bxe4,dxe4,c3,Nxe5,dxe5,Qxe5,Nd4,g6,Qh6,Qg7,Qg5,f5,Re3,Bd7,Rg3,Kh7,Rf4,Qf6,h4,Qxg5,Rxg5,Rf6,Kf2,Rc8,Ke3,Rb6,Nb3,Be6,Nd4,Bxa2,Rf2,Bc4,Rd2,Rd8,b4,Ra6,Rg3,Ra3,Kf4,Kh6', 'Nxf5+,gxf5,Rxd8', 'https://lichess.org/training/6uPZ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uqfu', 'Rapid', 'mak7ym', 1965, 'Ferboro', 1990, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d6,c3,O-O,a4,a5,Bg5,h6,Bh4,g5,Bg3,Nh5,Nxe5,Nxg3,Nxc6,bxc6,hxg3,Ba6,Nd2,Bxc4,Nxc4,Qf6,d4,Bb6,Ne3,c5,Nd5,Qe6,dxc5,dxc5,c4,Rad8,Re1,c6,Qb3,cxd5,exd5,Qd6,Re3,Rfe8,Rf3,Kg7,Qc3+,Qe5,Qb3,Rd6', 'Re3,Qxe3,fxe3', 'https://lichess.org/training/6uqfu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6UTZH', 'Rapid', 'Samyelsyad5566', 1967, 'Mrlogaretm', 1994, 'e3,c5,b3,d6,Bb2,Nc6,a3,Nf6,h3,g6,g3,Bg7,Bg2,O-O,Nc3,Bd7,Rb1,a6,d3,b5,Nge2,Rb8,O-O,a5,Nf4,b4,Na4,e6,axb4,axb4,c3,Nd5,Nxd5,exd5,cxb4,Bxb2,Rxb2,Nxb4,Rb1,Bxa4,bxa4,c4,dxc4,dxc4,Qd2,Qa5,Qxd6,c3,Rb3,Rfd8,Qf6,c2,Rc3,Rbc8,Rxc8,Rxc8,Qa1,Nd3,Be4,c1=Q,Qf6,Qxf1+,Kxf1,Qe1+,Kg2,Rc1,Qd8+,Kg7,Qd4+,Kh6,Bxd3', 'Qh1#', 'https://lichess.org/training/6UTZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uuOH', 'Classical', 'chickenchowchan', 1806, 'Baroqued', 1804, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,a3,cxd4,axb4,dxc3,bxc3,O-O,Bg5,d6,Nf3,Nbd7,e3,b6,Bd3,Bb7,Bxf6,Nxf6,Nd4,e5,O-O,exd4,cxd4,Qd7,d5,Rac8,Rxa7,b5,Bf5,Qe7,Bxc8,Rxc8,c5,dxc5,bxc5,Rxc5', 'Rxb7,Rxc2,Rxe7', 'https://lichess.org/training/6uuOH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uW0n', 'Rapid', 'DRook', 1847, 'Sobolev1971', 1846, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nf6,h3,Nc6,Nf3,a6,g3,Bf5,Bg2,e6,O-O,Be7,Nh4,Be4,Nxe4,Nxe4,Nf3,O-O,c3,Rc8,Re1,f5,Nd2,Qe8,Nxe4,fxe4,Qg4,Qf7,Rf1,Na5,f3,Qf5,fxe4,Qxg4,Rxf8+,Rxf8,hxg4,dxe4,Bxe4,b6,Bf4,Nc4,b3,Nd6,Bd3,b5,Re1,Kf7,Bxh7,g6,Be5,Ne8,Rf1+,Bf6,g5,Kg7,gxf6+,Kxh7,f7,g5,Bd6,Nxd6,Re1,Rxf7,Rxe6,Rd7,Kg2,Kg7,Kf3,Kf7,Rh6,a5,Rh7+,Ke6', 'd5+,Kxd5,Rxd7', 'https://lichess.org/training/6uW0n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6UWKI', 'Rapid', 'vitovalde', 1745, 'nani143', 1781, 'e4,c5,Nc3,Nf6,f4,d6,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Qg4,O-O,Qxf4,d4,Qg4,e5,Ne4,Nxe4,Qxe4,exd6,Nd7,Re1,Qc6,dxe7,Bxe7,d5,Qd6,g3,O-O', 'Bf4,Qb6,Rxe7', 'https://lichess.org/training/6UWKI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6UwOV', 'Blitz', 'FM davideoli97', 2343, 'bohle', 2104, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,c5,g3,Nc6,Bg2,Be7,O-O,O-O,Re1,Re8,e5,Nd7,Nf1,Qc7,Bf4,h6,h4,Nf8,N1h2,Ng6,Ng4,Nxf4,gxf4,f5,exf6,Bxf6,Nxf6+,gxf6,f5,e5,Bh3,Kh7,Kh1,b6,Rg1,Ne7,Qf1,Nxf5,Qg2,Qf7,Qh2,e4,dxe4,dxe4,Nd2,Nxh4', 'Bxc8,Raxc8,Qxh4', 'https://lichess.org/training/6UwOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uXQY', 'Bullet', 'Shsm65', 2140, 'tsonga4', 2149, 'c4,c5,g3,Nf6,Bg2,d5,cxd5,Nxd5,Nc3,Nc7,Nf3,Nc6,O-O,e5,d3,Be7,Be3,Be6,a3,f6,Rc1,Qd7,Nd2,Nd5,Nde4,b6,Nxd5,Bxd5,Nc3,Bxg2,Kxg2,Nd4,Bxd4,exd4,Ne4,Qd5,Kg1,O-O,Qd2,a5,g4,h5,h3,hxg4,hxg4,f5,gxf5,Rxf5,Ng3,Bg5,Qc2,Bxc1,Nxf5,Qxf5,Qxc1,Qg4+,Kh2,Qh4+,Kg2,Qg4+,Kh2,Kh7,f3,Qh4+,Kg2,Re8,Rf2,Re6,f4,Re3,Qh1', 'Rg3+,Kf1,Qxh1#', 'https://lichess.org/training/6uXQY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6uzyJ', 'Classical', 'moleSG', 1660, 'kimchi4lyfe', 1743, 'e4,e5,Nf3,Nc6,Nc3,d6,d4,Bg4,dxe5,Nxe5,Be2,Nxf3+,Bxf3,Be6,O-O,Ne7,Bg5,f6,Be3,Ng6,Nd5,c6,Nf4,Nxf4,Bxf4,Be7,Qd3,Qd7,Rfd1,O-O-O,c4,h5,Be3,c5,Rab1,Bg4,Be2,Bxe2,Qxe2,Qe6,Qc2,g5,b4,Kd7,bxc5,Ke8,cxd6,Bxd6,c5,Be5,Qa4+,Kf7,Qb3,Qxb3,axb3,Rc8,Rd7+,Kg6,Rxb7,a5,g3,Bc3,Rc1,Bb4,c6,h4,c7,Bd6,Bb6,hxg3,fxg3,f5,exf5+,Kxf5,Bxa5,Ke6,Rb8,Rxb8,cxb8=Q,Rxb8,Rb1,Bc5+,Kg2,g4,h3,gxh3+,Kxh3,Rh8+,Kg4,Rg8+,Kh3,Rh8+,Kg2,Bd6,b4,Rg8,Rb3,Rg5,Bb6,Rb5,Ba5,Kf5,Kf3,Kg5,Bd8+,Kg6,Ba5,Rf5+,Kg2,Rg5,b5,Kf6,b6,Rxa5,b7,Ra2+,Kf3,Bb8,Kg4,Ra4+,Kh3,Kg5,Rb5+,Kg6,g4,Ra3+,Kh4,Ra2,Rb6+,Kg7,Kh5,Rh2+,Kg5,Rf2,Re6,Rb2,Re7+,Kf8,Rd7,Rb5+,Kh4,Ke8,Rh7,Kd8,g5,Rb4+,Kh5,Rb5,Kh6,Rb6+,g6,Bf4+,Kh5,Be5', 'g7,Bxg7,Rxg7', 'https://lichess.org/training/6uzyJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6V0TV', 'Rapid', 'elmatadorvalen', 1684, 'J--M', 1673, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Be2,Bd6,Nc3,O-O,Bg5,Nbd7,Nxd5,c6,Nxf6+,Nxf6,O-O,h6,Bh4,Re8,Re1,g5,Bg3,Bxg3,fxg3,Ng4,Bd3,Bd7,Ne5,Nxe5,dxe5,b6,Qf3,Qc7,Qh5,Kg7,Rf1,Re7,Bc4,Rf8,Rae1,b5,Bb3,Qc8,c3', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/6V0TV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6v7iM', 'Rapid', 'rencber', 1774, 'Dogrum', 1770, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,cxd5,exd5,e3,O-O,Bd3,c6,Nf3,Bg4,O-O,Nd7,h3,Bh5,Be2,h6,a3,b5,Rc1,Nb6,b3,a6,Bd3,Qd6,g4,Bg6,h4,Qxa3,g5,Be7,Bxg6,fxg6,Ne5,Qd6,gxh6,gxh6,Qg4,Kh7,f4,Rf6,Kh2,Rg8,Rg1,Qd8,Rg2,h5,Qf3,Re6,Nf7,Qf8,Ng5+,Bxg5,hxg5,Qf5,Re2,Rge8,Rce1,a5,Nd1,Qd3,Rb2,a4,bxa4,Nxa4,Rbe2,Nc3,Nxc3,Qxc3,Qh3,b4,f5,R6e7,f6,Rf7,Qg2,b3,Qf2,Rb8,Rb2,Re8,Reb1,Qxe3,Qxe3,Rxe3,Rxb3,Re2+,Kg3,Rd2,Rb4,Rd3+,Kf4,Rd2,Rb7,Rxd4+,Ke5,Re4+,Kd6,Kg8,Rb8+,Rf8,R1b7,Ree8,Rg7+,Kh8,Rxe8,Rxe8,Rxg6,d4,Rh6+,Kg8,Rxh5,d3,g6,Rd8+,Kxc6,d2,f7+,Kg7,f8=Q+,Rxf8,Rd5,Rf6+,Kc5', 'Rf5,Rxf5,d1=Q', 'https://lichess.org/training/6v7iM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6vd53', 'Rapid', 'ARaGoRN-1990', 1693, 'ChhimthlipuiNgente', 1945, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,Bf5,Bg5,Ne4,Bd2,Nxd2,Qxd2,e6,Be2,Bd6,O-O,O-O,Bd3,Bxd3,Qxd3,Nd7,d5,exd5,Nxd5,h6,a3,Nb6,b4', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/6vd53');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6VEDT', 'Blitz', 'FM magolosof', 2324, 'neverforgetyou', 2338, 'c4,d6,g3,e5,Bg2,Nf6,Nc3,g6,d3,Bg7,e4,O-O,Nge2,Nbd7,O-O,c6,f4,exf4,Bxf4,Qb6+,Kh1,Ne5,h3,Nh5,Bg5,f6,Bc1,f5,exf5,Bxf5,g4,Bxd3,gxh5,Rxf1+,Bxf1,Qf2,Bf4,Rf8,Qe1,Rxf4,Nxf4,Qxf4,Bxd3,Nxd3,Qe8+,Bf8,Qe6+,Kg7,Qd7+,Kh6,hxg6,Qf3+,Kh2,Qf2+,Kh1,Qf3+,Kh2,hxg6,Qg4,Qf2+,Qg2,Qf4+,Qg3,Qd2+,Kh1,Nxb2,Rg1,g5,Ne4,Qf4,Nxg5,Qxg3,Rxg3,Nxc4,Nf7+,Kh5,Nh8,Ne5,Kg2,Bh6,Nf7,Bf4,Rb3,b5,Nxe5,Bxe5,Rf3,Kg5,Rf7,a5,Kf3,b4,Ke4,a4,Rb7,c5,Kd5,Kh4,Ra7,b3', 'Rxa4+,Kh5,axb3', 'https://lichess.org/training/6VEDT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6VGiM', 'Rapid', 'fireburns1207', 1775, 'guigas', 1791, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,Be7,f3,O-O,Qd2,d5,Nxc6,bxc6,e5,Nd7,f4,c5,Nb5,d4,Bf2,Nb6,b4,a6,bxc5,Bxc5,Nxd4,Nd5,Bc4', 'Bb4,Qxb4,Nxb4', 'https://lichess.org/training/6VGiM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6vHWV', 'Classical', 'Banderozz', 1642, 'yadd', 1701, 'c4,Nf6,Nc3,d6,e4,e5,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,Bg4,d3,c6,d4,exd4,Qxd4,c5,Qd3,Nc6,Nd5,Nxd5,cxd5,Ne5,Nxe5,Bxe5,Bf3,Bh3,Bg2,Qd7,Bh6,Rfe8,Rab1,f5', 'Bxh3,fxe4,Bxd7', 'https://lichess.org/training/6vHWV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6VIFr', 'Rapid', 'AskarBB', 1696, 'Zhizhan', 1714, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,d6,Bb5+,Bd7,Qd3,Nc6,Nc3,a6,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Nf6,Bg5,Be7,Rfd1,O-O,Ne2,h6,Bh4,d5,exd5,cxd5,Nf4,g5,Bxg5,hxg5,Nxe6,fxe6,Qg6+,Kh8,Rd3,Rg8', 'Rh3+,Nh7,Qxh7#', 'https://lichess.org/training/6VIFr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ViGT', 'Rapid', 'mossall', 1725, 'BassDash', 1717, 'f4,d5,d4,e6,Nf3,c5,c3,Nc6,e3,cxd4,exd4,Nf6,Be2,Ne4,O-O,Be7,Ne5,Nxe5,fxe5,Bg5,Bxg5,Qxg5,Bf3,O-O,Bxe4,dxe4,Qe1,Qg6,Nd2,f6,exf6,Rxf6,Rxf6,gxf6,Qe3,f5,Rf1,Bd7,b3,Rc8,c4,b6,Qf4,b5,Qd6,Qg7,c5,Rc6,Qf4,e5,dxe5,Rxc5,b4,Rxe5,Nb3,Bc6,Nc5,e3,g3,Bd5,Re1,e2,Nd3,Re4,Qf2,Qd4,Nf4,Qxf2+,Kxf2,Bxa2,Rxe2,Rxe2+,Kxe2,a6,Ke3,Be6,Kd4,Bc8,Ke5,Kg7,Ne6+,Kg6,Nf4+,Kg5,h3,a5,bxa5,b4,Kd4,h5,Kc4', 'h4,gxh4+,Kxf4', 'https://lichess.org/training/6ViGT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6vl8V', 'Blitz', 'KABALLOAZTEKA', 1921, 'jenapradeed', 1913, 'c4,c5,g3,d6,Bg2,g6,e4,Bg7,d3,Nf6,h3,O-O,Ne2,Nc6,Be3,Be6,f4,Bd7,O-O,e5,Nbc3,Nd4,Bxd4,cxd4,Nd5,Nxd5,exd5,b5,b3,bxc4,bxc4,Rb8,Rb1,Qa5,Qc2,Rfc8,Rxb8,Rxb8,Rb1,Qc7,Kf2,Qc8,Ng1,exf4,gxf4,Rxb1,Qxb1,Bf5,Kg3,Qa6,Ne2,h5,h4,Kh7,Bh3,Qc8,Bxf5,Qxf5,Qb7,Qg4+,Kf2,Qxh4+,Kf1,Qh3+,Ke1,Qxd3,Qxf7,Qxc4,Qxa7,d3,Ng1,Qc1+,Kf2,d2,Nf3,d1=Q,Ng5+,Kh6,Nf7+,Kh7,Ng5+,Kg8', 'Qf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/6vl8V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6vnZg', 'Rapid', 'aam66', 1903, 'bhati254', 1885, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,d3,O-O,c3,d6,b4,Bb6,a4,a6,Nbd2,Ba7,Bb3,b5,a5,Be6,Bc2,d5,exd5,Nxd5,Bb2,Bg4,h3,Bh5,g4,Bg6,Kg2,Nf4+,Kg3,Bxd3,Bxd3,Nxd3,Qc2,e4,Nxe4,Nde5,Rad1,Qe7,Nxe5,Nxe5,Rde1,f5,Ng5,Qxg5,Rxe5', 'f4+,Kh2,Qxe5', 'https://lichess.org/training/6vnZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Vswr', 'Rapid', 'shashashemanaev', 1770, 'GoltsevEg', 2036, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,g6,Nc3,Bg7,Be3,Nc6,Nxc6,bxc6,Qd2,Nf6,Bg5,O-O,O-O-O,Be6,b3,Qb8,Be2,Qb4,Rhe1,Nxe4,Nxe4', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/6Vswr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6VV22', 'Classical', 'abhinav2009', 1621, 'aarshasharma27', 1606, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,d6,h3,Be7,Be2,h6,O-O,O-O,a3,a6,Re1,Be6,Nd5,Re8,Nxe7+,Qxe7,Bd3,Rad8,Bd2,d5,exd5,Bxd5,Bc3,Qc7,Nd2,Qd6,Bc4,Bxc4,Nxc4,Qc5,Qe2,Nd4,Bxd4,exd4,Qd3,Qg5,Rxe8+,Nxe8,Re1,Nc7,c3,dxc3,Qxc3,Nd5,Qe5,Qg6,Rd1,Qe6,Qd4,Rc8,Qxd5,Qxd5,Rxd5,Rxc4,Rd8+,Kh7,Rd7,Rc1+,Kh2,Rc2,Rxb7,Rxf2,b3,Rf5,a4,Kg6,Rb6+,Rf6,a5,Kf5,b4,Ke4,b5,axb5', 'Rxf6,gxf6,a6,Kd5,a7', 'https://lichess.org/training/6VV22');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6vvww', 'Classical', 'transgirlchess', 2080, 'Md_Manik_Hossain', 1950, 'd4,d5,c4,dxc4,Nf3,c6,a4,Bf5,Nc3,Nf6,Bg5,Bd7,e4,b5,e5,Nd5,Ne4,h6', 'Nd6+,exd6,Bxd8', 'https://lichess.org/training/6vvww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6VyvM', 'Blitz', 'IM MannySen', 2468, 'IaMcOoL1234', 2060, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Bd7,Nf3,Bc6,Bd3,Nd7,O-O,Ngf6,Ng3,Be7,Re1,b6,c4,O-O,b3,Bb7,Bb2,c5,d5,exd5,Nf5,Re8,Qc2,Bf8,cxd5,Rxe1+,Rxe1,Bxd5,Ng5,h6,Ne4,Bxe4,Bxe4,Nxe4,Qxe4,Rc8,Qg4,g6,h4,Rc6,Rd1,h5,Qg3,Qc7,Qc3,Nf6,Ng3,Bg7,Ne4,Qf4,f3,Qxh4,Rd8+,Kh7,Qe5,Re6', 'Ng5+,Qxg5,Qxg5', 'https://lichess.org/training/6VyvM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6VZ3G', 'Rapid', 'destroyer852', 2021, 'alexluzhin', 2033, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,h3,a6,Bb3,Ba7,Nbd2,Be6,Bc2,h6,Nf1,Qd7,a4,Ne7,Ng3,g5,d4,g4,d5,Bxd5,exd5,gxf3,Qxf3,Nfxd5,Be4,c6,Nh5,O-O-O,c4,f5,Bxd5,cxd5,Nf6,Qe6,Nxd5,e4,Nxe7+,Qxe7,Qxf5+,Kb8,O-O,Rhf8,Qd5,e3,Bxe3,Bxe3,fxe3,Qxe3+,Kh1,Rg8,Rae1,Qb3,Re6,Qxb2,Rxd6,Rxd6,Qxg8+,Ka7,Rf8', 'Rd1+,Kh2,Qe5+,Qg3,Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/6VZ3G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6VZg0', 'Rapid', 'mqk', 1700, 'jcll', 1732, 'd4,e6,e4,Ne7,Nf3,d6,Nc3,Nd7,Be3,b6,Bd3,Bb7,O-O,g6,Ng5,Bg7,Qf3,f6,Nxe6,Ne5,Qh3,Bc8,Nxg7+,Kf7,Qh6,Ng4,Qf4,Kxg7,h3,g5,Qg3,Nxe3,fxe3,h6,Nd5,Nxd5,exd5,Bd7,Rf2,Qe7,Raf1,Raf8,c4,h5,b3,h4,Qh2,Rh6,e4,g4,hxg4,Bxg4,Rf4,f5,exf5,Qe3+,R4f2,Qxd3,Qf4,Qg3,Qg5+,Kh7,f6,Rf7,Rf4,h3', 'Rxg4,Qxg4,Qxg4', 'https://lichess.org/training/6VZg0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6vzZT', 'Rapid', 'mniedoba', 1693, 'ChessAtNight', 1761, 'e4,c5,Nf3,e6,d4,a6,d5,Qc7,Nc3,Bd6,Be3,b5,Qd2,Nf6,O-O-O,b4,Ne2,Nxe4,Qd3,Nf6', 'dxe6,dxe6,Qxd6,Qxd6,Rxd6', 'https://lichess.org/training/6vzZT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6w5rP', 'Blitz', 'Frank-ajedrez', 1975, 'Revollution1', 1951, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c4,Bg4,Nc3,e6,cxd5,exd5,Be2,Nf6,O-O,Bd6,Bg5,O-O,h3,Bh5,Nxd5,Bh2+,Kxh2,Qxd5,Bxf6,gxf6,Qd3,Bxf3,Bxf3,Qxd4,Qb3,Qb6,Qc3,Ne5,Rfe1,Rac8,Qa3,Nxf3+,Qxf3,Qxb2,Reb1,Qe5+,g3,b6,Re1,Qd6,Rad1,Qc6,Qg4+,Kh8,Re4,Qc2,Rf4,Rc6,Rd5,Rc5,Rd6,f5,Qg5,Qxa2,Rh6,f6', 'Rxh7+,Kxh7,Rh4#', 'https://lichess.org/training/6w5rP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6W5Uy', 'Blitz', 'Skipidibup', 1689, 'Davidsakk', 1664, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,Re1,O-O,h3,Re8,c3,b5,Bc2,d5,d4,Ba7,exd5,Nxd5,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Be6,Qh7+,Kf8,Nxe6+,Rxe6,Qh8+,Ke7,Bg5+,Nf6,Qxg7,Qg8,Qxg8,Rxg8,d5,Rxg5,dxe6,Kxe6,Nd2,Rf5,Nf3,e4,Rad1,Ne5,Nd4+,Bxd4,Rxd4,Nd3,Rxd3,c5,Rde3,Re5,f3,Kd5,fxe4+,Nxe4,Kh2,f5,Rd1+,Ke6,h4,f4,Rh3,Nf2,Rh1', 'Ng4+,Kg1,Re1#', 'https://lichess.org/training/6W5Uy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6w5XY', 'Rapid', 'Salaaaah80', 1954, 'Jay_007', 1840, 'e4,c6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nf3,Bg4,Be2,Bxf3,Bxf3,e6,b3,Nge7,Bg5,Qb6,Nc3,Nf5,Be3,Nfxd4,Be2,Qb4,Bxd4,Nxd4,Rc1,Rc8,Qd2,Nxe2,Nxe2,Rxc1+,Nxc1,Qxd2+,Kxd2,Bb4+,Kd3,Ke7,Ne2,Rc8,Rc1,Rxc1,Nxc1,Ba3,Ne2,Bb2,f4,f6,exf6+,Kxf6,g4,g5,h3,gxf4,Nxf4,Be5,Ng2,Kg5,a4,a5,Ke3,h5,gxh5,Kxh5,Kd3,Kg5,Ke3,Kf5,Kd3,Bd6,Kd4,Bb4,h4,Kg6,h5+,Kf6,h6,Kg6', 'Nf4+,Kf7,h7', 'https://lichess.org/training/6w5XY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6W6kA', 'Rapid', 'Antis701', 1681, 'ATHARV_YELE2', 1689, 'e4,e5,c3,Nc6,d4,f6,d5,Nce7,Nf3,d6,c4,c6,Nc3,Bd7,Be3,g6,Qa4,cxd5,Qb4,dxe4,Nxe4,a5', 'Nxd6#', 'https://lichess.org/training/6W6kA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6w6Vc', 'Blitz', 'ad201010', 1597, 'Cartoni', 1543, 'c4,e5,e4,Bc5,d3,Nc6,Nc3,Nf6,f4,exf4,Bxf4,d6,h3,O-O,g4,Nd7,Nf3,Nde5,Nxe5,dxe5,Bg3,Qf6,Be2,Nd4,Nd5,Nf3+,Bxf3,Qg5,Qd2,Qxd2+,Kxd2,c6,Nc7,Rb8,Bxe5,Bb6,Ne6,Bxe6,Bxb8,Rxb8,b4,Bd4,Rab1,a6,a4,Kf8,Rhc1,Ke7,b5,axb5,axb5,c5,Rb3,b6,Ra3,Kd6,Ra7,Ke5,Rf1,g6,h4,Kf4,Be2+,Kg3,h5,g5,Rf3+,Kxg4,Rfxf7+,Kg3,Rxh7,Rf8,Rae7,Bg4,Rhf7,Rh8,Bxg4,Kxg4,Rh7,Rf8,Ref7,Ra8,Ra7,Rf8,Rhf7,Rh8,Rab7,Rxh5,Rxb6,Rh2+,Ke1,Bc3+,Kf1,Kg3,Rbf6', 'Rh1+,Ke2,Re1#', 'https://lichess.org/training/6w6Vc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6W7Op', 'Blitz', 'KilicNurullah56', 2039, 'FM Satscho', 2336, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Be3,Bg4,c4,e6,cxd5,Nxd5,Nc3,Nxc3,bxc3,Nc6,Be2,Be7,O-O,O-O,h3,Bh5,Nd2,Bxe2,Qxe2,Rc8,Nb3,Qd7,Rac1,Ba3,Rfe1,Bxc1,Rxc1,a6,c4,Rfd8,c5,Nb4,Qd2,Qb5,h4,Nd5,Bg5,Rd7,h5,b6,h6,g6,cxb6,Nxb6,Rxc8+,Nxc8,Qc3,Nb6,d5,Qxd5', 'Qg7#', 'https://lichess.org/training/6W7Op');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6WaiW', 'Blitz', 'NikolaBoskovski', 1972, 'Afgbox', 2033, 'd4,d5,c4,dxc4,Nc3,c6,e3,b5,Qf3,Bd7,Nxb5,cxb5,Qxa8,Bc6,Qxa7,e6,Bd2,Nf6,Qa5,Qc8,Nf3,Bd6,Be2,O-O,Qc3,Ne4,Qc1,Nxd2,Qxd2,b4,Rc1,Bd5,O-O,Qc7,h3,Rc8,Rc2,c3,bxc3,bxc3,Qc1,Bb4,Ne1,Nc6,Bf3,Na5,Bxd5,exd5,Nd3,Bd6,Qb1,Rb8,Qa1,Rc8,Rfc1,Bh2+,Kf1,Nc4,Qxc3,Qe7,Nc5,h6,Qb3,Bd6,Rxc4,dxc4,Rxc4,Rb8,Rb4,Rc8,Rb7,Qf6,Ne4,Rc1+,Ke2,Qf5,g4,Qxe4', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/6WaiW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6wbQ5', 'Rapid', 'mahdihashemi', 2106, 'oliverK0308', 1893, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,c4,Nf6,Nc3,Bb4,Qd3,Bxc3+,bxc3,O-O,Nxc6,bxc6,e5,Ne8,c5,a5,Be3,Ba6,c4,f6,Bd4,fxe5,Bxe5,Qg5,f4,Qe7,Qd4,Nf6,Be2,Rad8,Bd6,Qf7,Bxf8,Qxf8,O-O,d5,cxd6,Rxd6,Qe5,Rd2,Qxe6+,Kh8,Rad1,Rxa2,Kh1,h6,Rd6', 'Rxe2,Qxe2,Qxd6', 'https://lichess.org/training/6wbQ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6wdAj', 'Rapid', 'time-waster', 1738, 'bknight', 1713, 'e4,d6,Nf3,Nf6,Nc3,Nbd7,Be2,e5,O-O,Be7,d4,h6,dxe5,dxe5,Nd5,Nxe4,Nxe7,Qxe7,Be3,O-O,a3,b6,Qd3,Ndc5,Qc4,Be6,Qb5,a6,Qb4,Bg4', 'Bxc5,Nxc5,Qxg4', 'https://lichess.org/training/6wdAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6wfNU', 'Rapid', 'iksan1717', 1705, 'Eduardo_Sig', 1629, 'e4,c5,Bc4,g6,Bxf7+,Kxf7,e5,d6,f4,dxe5,fxe5,Nc6,Nf3,Bg4,O-O,Nxe5,Nxe5+,Kg7,Qxg4,Nf6,Qe6,Qe8,d4,cxd4,Bg5,h6,Bxf6+,exf6,Qxf6+,Kh7,Nf7,Bg7,Qf4,Rf8,Qc7,Rd8,Nd2,Rd7,Qc4,Rdxf7,Nf3,d3,cxd3,Qe3+,Kh1,Rxf3,gxf3,Rxf3,Rxf3,Qxf3+,Kg1,Qe3+,Kf1,Qf3+,Ke1', 'Qh1+,Ke2,Qxa1', 'https://lichess.org/training/6wfNU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6WG96', 'Rapid', 'kandide', 2081, 'julianpaul', 2080, 'd4,Nf6,Bf4,d6,Nc3,g6,e4,Bg7,Qd2,c6,Bh6,Bxh6,Qxh6,Qa5,O-O-O,b5,f3,b4,Nb1,Be6,a3,Nbd7,Qd2,Rb8,axb4,Qa1,c3,Bb3,Re1,Nb6,e5,Ba2,Bd3,Nc4,Qc2,Nd5,Bxc4,Bxc4,exd6,e6,b3,Rxb4,cxb4,Nxb4,bxc4,Nxc2,Kxc2,Qxd4,Ne2,Qxd6,Nbc3,O-O,Ne4,Qb4,c5,Rd8,Rb1,Qa4+,Rb3,Qa2+,Rb2,Qc4+,N2c3,f5,Nd6,Qxc5,Nb7,Qf2+,Kb3,Qb6+,Ka2,Qa6+,Kb1,Rb8,Nc5,Rxb2+,Kxb2,Qb6+,Nb3,c5,Na4,Qb4,Nxc5,a5,Ra1,e5,Rxa5,e4,Ra8+,Kg7,fxe4,fxe4,Re8,Qc4,Rxe4,Qf1,g3,Qg2+,Ka3,Qxh2,Ne6+,Kf6,Nbd4,Qxg3+,Kb4,Qb8+,Kc5,Qc8+,Kd5,Qa8+,Nc6,Kf5', 'Rf4#', 'https://lichess.org/training/6WG96');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6WJF4', 'Blitz', 'marcio03', 1520, 'herentug', 1521, 'e4,e5,Nf3,Nc6,c3,Bc5,d4,exd4,cxd4,Bb6,d5,Nce7,e5,Ng6,Qe2,d6,e6,fxe6,dxe6,Nf4,Bxf4,Nf6,Bg5,O-O,Bxf6,Qxf6,e7,Re8,Qc2,Bf5,Qc3,Rxe7+,Be2,Rxe2+,Kxe2,Qe6+,Kf1,Re8,Nbd2', 'Qe2+,Kg1,Bxf2#', 'https://lichess.org/training/6WJF4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6WK4I', 'Rapid', 'harishsarda11', 1664, 'adi9rh', 1655, 'e4,Nc6,Nf3,e6,Nc3,b6,d4,Bb7,Bc4,Bb4,Qd2,Nf6,O-O,Nxe4,Qe3,d5,Bb5,Bxc3,bxc3,a6,Bd3,Nxc3,Bb2,Nb5,Ng5,h6,Nxe6,fxe6,Qxe6+,Qe7,Bg6+,Kd8,Qxd5+,Qd7,Qe4,Kc8', 'Bf5,Qxf5,Qxf5+', 'https://lichess.org/training/6WK4I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6wMCY', 'Rapid', 'dansibar', 1747, 'bhanu9', 1724, 'd4,Nf6,Bf4,d6,e3,e6,Bd3,c6,Nf3,Be7,Nbd2,Nbd7,c3,Qb6,Qb3,Qxb3,axb3,O-O,e4,d5,e5,Ne4,Nxe4,dxe4,Bxe4,f6,b4,fxe5,Bxe5,Nxe5,Nxe5,Bh4,g3,Bg5,Rd1,a5,bxa5,Rxa5,f4,Bf6,O-O,c5,Kh1,cxd4,cxd4,Rb5,Rd2,Be7,d5,exd5,Bxd5+,Rxd5,Rxd5,Bf6,Kg2,b6,b4', 'Bb7,Kf2,Bxd5', 'https://lichess.org/training/6wMCY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6wNSa', 'Blitz', 'Bapu_84-chess', 1645, 'Gouravprithyani', 1629, 'e4,e5,Bc4,Nf6,Qf3,d5,exd5,Bg4,Qb3,Bc5,h3,Bc8,Nf3,e4,Nh2,c6,dxc6,Nxc6,Bxf7+,Kf8,Bc4,Qd4,O-O,Bxh3,gxh3,Ne5,d3,Nf3+,Nxf3,exf3,Be3,Qe5,Bxc5+,Ke8,Bb5+,Nd7,Bxd7+,Kxd7,Nd2', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/6wNSa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6WrG8', 'Classical', 'FromAToZugzwang', 2131, 'ahchoy', 1952, 'd4,e6,c4,d5,Nc3,Bb4,Nf3,a6,Qc2,dxc4,e4,b5,a4,c6,axb5,cxb5,Bd2,Bxc3,Bxc3,Bb7,d5,Nf6,dxe6,fxe6,Ng5,Qe7,Be2,h6,e5,hxg5,exf6,gxf6,O-O-O,Nd7', 'Qg6+,Qf7,Qxf7+,Kxf7,Rxd7+', 'https://lichess.org/training/6WrG8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6wvbP', 'Blitz', 'jio_pawpaw', 1864, 'joroev', 1862, 'd4,d5,c4,dxc4,Nc3,e5,d5,Bd6,e4,Nf6,Bxc4,h6,Nf3,O-O,O-O,c6,h3,cxd5,exd5,a6,Re1,b5,Bb3,Bb7,Nxe5,Bxe5,Rxe5,Nbd7,Re1,Nc5,Be3,Nxb3,axb3,Nxd5,Qf3,Nxe3,Qxb7,Nc2,Red1,Nxa1,Rxd8,Rfxd8,Nd5,Nxb3,Ne7+,Kh8,Nc6,Rf8,Ne5,Nc5,Qc7,Ne6,Qd7,Kg8,Nc6,Kh8,g3,a5,f4,b4,f5,Ng5,h4,Nf3+,Kg2,a4,Kxf3,a3,bxa3,bxa3,Qd1,a2,Qa1,Rfc8,Nb4,Rc3+,Ke2,Rca3,g4,R8a4,Nc2,Rb3,g5,Rb1,Qe5,a1=Q', 'Qe8+,Kh7,g6+,fxg6,fxg6#', 'https://lichess.org/training/6wvbP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6wVxM', 'Rapid', 'dicksy155', 1786, 'clsi', 1777, 'e4,d6,f4,e5,Nf3,Bg4,d3,Bxf3,Qxf3,Nc6,c3,Qh4+,g3,Qd8,Bh3,Nf6,O-O,h5,Be3,exf4,Qxf4,Ne5,Bd4,Nxd3,Qd2,Ne5,Qe3,Nfg4,Qf4,f6,Nd2,Nd3,Qf3,Nxb2,Rab1,Na4,e5,dxe5,Bxe5,Nxe5,Qxb7,Nxc3,Rb2,Bc5+,Kh1,Qd5+,Qxd5,Nxd5,Rb5,Nd3,Rf3,Nf2+,Kg2,Nxh3,Kxh3,O-O,Rxc5,Rad8,Ne4,Rfe8,Nf2,Re5,Nd3,Re2,a4,Rd2,Nf4,Nxf4+,Rxf4,R8d7,Rfc4,Ra2,Rxc7,Rxc7,Rxc7,Rxa4,Rc8+,Kf7,Rc7+,Kg6,Rc6,Kg5,Rc5+,f5,Rc7,g6,Rc5,Re4,Ra5,Re7,Ra6,Kh6,Kh4,Rb7,Rd6,a5,Ra6,Rb5,Kh3,Kg7,Kh4,Rb4+,Kh3,g5,Rxa5,g4+,Kh4,Kf6,Kxh5,Rb8,Ra6+,Kg7,Rg6+,Kh7,Kg5,Rb5,Rh6+,Kg7,Rf6', 'f4+,Kxg4,Kxf6', 'https://lichess.org/training/6wVxM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6wW1a', 'Rapid', 'HosseinDragon', 2356, 'Anmer', 2217, 'd4,f5,c4,Nf6,Nc3,e6,Bg5,Bb4,Qb3,Nc6,e3,O-O,Bd3,h6,Bxf6,Qxf6,Ne2,b6,O-O,Bd6,e4,Nxd4,Nxd4,Qxd4,Nb5,Qe5,Nxd6,Qxd6,exf5,exf5', 'c5+,Qe6,Bc4', 'https://lichess.org/training/6wW1a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6wWnt', 'Blitz', 'JMHA', 1647, 'Dieno', 1662, 'd4,Nf6,Bf4,e6,e3,b6,c4,Bb7,a3,c5,Nf3,Be7,Nc3,O-O,d5,exd5,cxd5,d6,e4,Na6,e5,dxe5,Bxe5,Bd6,Bc4,Nc7,O-O,Bxe5,Nxe5,Qd6,f4,Rad8,Qb3,Nfxd5,Nxd5,Nxd5,Rad1,f6,Ng4,Kh8,Ne3,Rd7,Nxd5,Rfd8,Nxf6,Qxd1,Nxd7,Qd4+,Kh1,Rxd7,Be6,Qe4,Rg1,Re7,f5,Re8,Qb5,Rd8,Qa4,Rd4,Qxa7', 'Qxg2+,Rxg2,Rd1#', 'https://lichess.org/training/6wWnt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6wxwt', 'Rapid', 'portley', 1825, 'igrr', 1812, 'd4,d5,e3,Bf5,Bd2,Nc6,Nf3,h6,c4,e6,Nc3,Nf6,a3,a6,b4,Bd6,c5,Be7,h3,O-O,Be2,b6,g4,Bh7,g5,Ne4,gxh6,gxh6,Nxe4,Bxe4,Bc3,Kh7,Bd3,Bg6,Qc2,f5,h4,Bh5,Be2,Rf6,Ng5+,Kg6,Bxh5+,Kxh5,Qe2+,Kg6,Rg1,hxg5', 'Rxg5+,Kh7,Qh5+,Rh6,Qf7+,Kh8,Qg7#', 'https://lichess.org/training/6wxwt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6WZFB', 'Rapid', 'Peyman19', 1810, 'materuso1', 1817, 'e4,Nc6,Bc4,e6,Nf3,Nf6,Nc3,d5,exd5,exd5,Bb3,Na5,Qe2+,Be7,Qb5+,Nc6,Bxd5,Nxd5,Qxd5,O-O,O-O,Bf6,Qb3,Rb8,d3,Be6,Qa3,Be7,Qa4,Bd7,Qe4,Re8,Qf4,Bd6,Qh4,Ne5,Qxd8,Rbxd8,Nxe5,Bxe5,Be3,Bxc3,bxc3,b6,a4,Re5,Bf4,Rc5,Ra3,c6,Re1,Rf5,Be3,Re8,c4,Rg5,g3,Rg6,a5,b5,cxb5,cxb5,Kf1,a6,Ke2,Rc6,Kd2,h6,Rc1,Rec8,Rb3,Be6,Rb2,Bf5,c3,Rd8,d4,Rdc8,Rb4,g6,f3,h5,d5,Rd6,Ke2,Rxd5,g4,Bd3+,Kf2,Bc4,Bd4,Re8,Re1,Rxe1,Kxe1,Rd6,Rb2,hxg4,fxg4,Re6+,Kf2,Kh7,h4,f5,g5,Kg8,Kg3,Re4,Rf2,Rg4+,Kh3,Bd3,Rg2,Rxg2,Kxg2,Kf7,Kf3,Ke6,Kf4,Be2,Ke3,Bg4,Bb6,Kd5,Bd4,Kc4,Kf4', 'b4,cxb4,Kxd4', 'https://lichess.org/training/6WZFB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6x0cG', 'Rapid', 'Bigggoron', 1825, 'mohamad73', 1707, 'd4,Nf6,c4,a6,Nc3,c6,Nf3,b5,Bg5,bxc4,Bxf6,exf6,e4,Bb4,Bxc4,O-O,O-O,Bxc3,bxc3,d5,exd5,cxd5,Bd3,Bg4,h3,Bh5,Be2,Qc7,Nh4,Bxe2,Qxe2,Qxc3,Nf5,Nc6,Rac1,Nxd4,Nxd4,Qxd4,Rfd1,Qe4,Qd2,Rfd8,Rc5,h6,Rxd5,Rxd5,Qxd5,Qxd5,Rxd5,a5,a4,Ra7,f3,Kh7,Kf2,Kg6,Ke3,f5,Kd4,Kf6,Rb5,g5,Kc5,g4,Kb6,Re7,Kxa5,gxh3,gxh3,Kg5,Kb6,Kf4,a5,Kxf3,a6,Re6+,Ka5,Rxa6+,Kxa6,f4,Kb6,Kg3,Rb3+,f3,Kc5,Kg2,Kd4', 'f2,Rb2,Kg1,Rb1+,f1=Q,Rxf1+,Kxf1', 'https://lichess.org/training/6x0cG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6x2GB', 'Rapid', 'Akuver', 1881, 'Hunschback', 1911, 'd4,Nf6,c4,d5,Nc3,e6,Bf4,Bd6,Bg3,Nc6,e3,O-O,Nf3,Bb4,c5,Ne4,Qc2,Re8,Bd3,Bxc3+,bxc3,Nxg3,hxg3,g6,Ke2,e5,dxe5,Nxe5,Nxe5,Rxe5,Rh2,d4,cxd4,Qxd4,Rah1,Bg4+,Kf1,Qa1+,Qb1,Qxb1+,Bxb1,Rd8,f3,Rd1+,Kf2,Rxh1,Rxh1,Be6,Rc1,Rd5,Be4,Rd2+,Kg1,Rxa2,Bxb7,a5,e4,a4,Bd5,Bxd5,exd5,Kf8,d6,cxd6', 'c6,Re2,c7', 'https://lichess.org/training/6x2GB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6x5qA', 'Blitz', 'CM rob188', 2583, 'Dr_Martic', 2530, 'd4,c5,d5,e5,e4,d6,Bb5+,Bd7,Bd3,Be7,Nf3,Bg4,Nbd2,Bg5,h3,Bxf3,Qxf3,Ne7,Qg3,Ng6,O-O,O-O,Nc4,Bf4,Bxf4,exf4,Qf3,Nd7,Rae1,Qf6,c3,Nde5,Nxe5,Nxe5,Qd1,f3,g3,Qh6,h4,g5,Re3,gxh4,Rxf3,Nxf3+,Qxf3,Kh8,Kg2,hxg3,fxg3,Qg5,e5,Qxe5,Rh1,f5,Qh5,Qg7,Bxf5,Rxf5,Qxf5,Rg8,Rh3,Qg6,Qxg6,Rxg6,Rh5,Kg7,Rf5,Rf6,Rg5+,Rg6,Rf5,Rf6,Rg5+,Kf7,Rg4,h6,Ra4,a6,Rh4,Kg6,Rh1,b5,Re1,Rf5,Re6+,Rf6,Re4,Kf7,b3,Rf5,c4,b4,g4,Rg5,Kg3,h5,Rf4+,Kg6,Kh4,Rxg4+,Rxg4+,hxg4,Kxg4,a5,Kf4,Kf6,Kg4,Ke5', 'Kg5,a4,bxa4', 'https://lichess.org/training/6x5qA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6x6TP', 'Rapid', 'rsydor', 1809, 'WestFighter', 1801, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Nf3,Nc6,Bc4,e6,O-O,Nf6,Qe2,Be7,Rd1,Qc7,Nb5,Qb8,Bf4,Ne5,Bxe5,dxe5,Rac1,a6', 'Nc7+,Qxc7,Bb5+', 'https://lichess.org/training/6x6TP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6x6xE', 'Blitz', 'orangtua', 2072, 'dragonchess83', 1900, 'd4,e6,c4,Ne7,Nc3,d6,e4,Nd7,Bd3,e5,d5,Ng6,Nge2,Be7,Be3,O-O,O-O,c6,Ng3,Nf6,h3,a6,f3,b6,dxc6,Be6,Nd5,Bxd5,cxd5,Qc7,Qd2,Nh4,Rac1,Ng6,b4,Rfc8,a4,a5,b5,Qd8,Qf2,h6,Bxb6,Qe8,Qd2,Nh7,Bxa5,Nf4,Bc2,Bg5,Qb4,Bh4,Nf5,Ne2+,Kh2,Bg5,Rce1,Bf4+,g3,Nxg3,Nxg3,Qd7,b6,Qe7,b7,Qh4,Rg1,Ng5,bxc8=Q+,Rxc8,Kg2', 'Qxg3+,Kf1,Qxf3#', 'https://lichess.org/training/6x6xE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6X7U1', 'Rapid', 'idho_dwianri', 1969, 'VortexDXXL', 1966, 'Nf3,Nc6,d4,Nf6,c4,d5,cxd5,Qxd5,Nc3,Qd8,e4,Bg4,d5,Bxf3,Qxf3,Ne5,Qd1,a6,Bf4,Ng6,Bg3,Qd7,e5,Ng8,Bc4,O-O-O,O-O,Qf5,Re1,Nh6,b4,Ng4,a4,N4xe5,Bxe5,Nxe5,Be2,e6,a5,exd5,b5,d4,Na4,d3,Bf1,Bb4,Re3,Ng4,Rxd3,Rxd3,Bxd3,Qxf2+,Kh1,Ne3,Qg1,Qxg1+,Kxg1,axb5,Bxb5,Bxa5,Nc5,Bb6', 'Ra8#', 'https://lichess.org/training/6X7U1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6X9F9', 'Rapid', 'efearsln', 1749, 'AlixM', 1992, 'e4,d6,d4,Nf6,Nc3,g6,Be3,a6,Nf3,b5,Qd2,b4,Ne2,Nxe4,Qxb4,Bg7,Ng3,Nf6,Bd3,Nd5,Qc4,Be6,Qa4+,Bd7,Qb3,Nxe3,fxe3,O-O,d5,c6,Qb7,cxd5', 'Qxa8,Bc6,Qa7', 'https://lichess.org/training/6X9F9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Xafx', 'Rapid', 'gerasimeni', 2053, 'Comes_Paulus', 2033, 'e4,g6,d4,Bg7,c4,d6,Be3,Nd7,Nc3,e5,Nge2,Ne7,Qd2,f5,exf5,Nxf5,Bg5,Nf6,dxe5,dxe5,Qxd8+,Kxd8,Nd5,Rf8,O-O-O,Bd7,g4,Nd6,f3,h6,Bxf6+,Bxf6,Nxf6,Rxf6,c5,Nc4,Nc3,Ne3,Rd3,Nxf1,Rxf1,Ke8,Re1,Re6,Nd5,Rc8,Rde3,Kf7,Rxe5,Rxe5,Rxe5,Be6,Nc3,a6,a3,Rd8,Kc2,Rd4,Re4,Rd7,h4,Kf6,Rf4+,Kg7,Ne4,Rd4,Kc3,Rd1,Rf6,Bf7,g5,h5,Nd2,Rh1,Nc4', 'Rc1+,Kd3,Bxc4+', 'https://lichess.org/training/6Xafx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6XCjP', 'Rapid', 'milovanvukayinovic', 1934, 'Pleu', 1976, 'e4,e5,Nf3,Nf6,Nc3,Bb4,d4,Nxe4,Qd3,d5,Nxe5,O-O,a3,Bxc3+,bxc3,Qf6,Be3,c5,f3,Qh4+,Kd1,c4,Nxc4,Nxc3+,Qxc3,dxc4,Qxc4,Re8,Qd3,Nc6,g3,Qf6,Bg2,Bf5,Qd2,Rad8,c3,Na5,Bg5,Qg6,Bxd8,Rxd8,Ra2,Nc4,Qe2,Be6,Ra1,Nxa3,Rc1,Bb3+,Ke1,f6,Qe4', 'Re8,Kf2,Rxe4', 'https://lichess.org/training/6XCjP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6xCNo', 'Rapid', 'chessboylran', 2179, 'songwei1', 2345, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bb5,Nd4,O-O,Nxb5,Nxb5,d5,exd5,a6,Nc3,Nf6,d4,c4,Qe2,b5,a3,Nxd5,Nxd5,Qxd5,c3,Bf5,Re1,e6,Ne5,O-O,Bd2,f6,Ng4,Rae8,Ne3,Qa8,Nxf5,exf5,Qf2,Re4,Re3,Rfe8,Rae1,Bh6,g3,Kf7,Kf1,Bf8,Qg2,Rxe3,Qxa8', 'Rxe1+,Bxe1,Rxa8', 'https://lichess.org/training/6xCNo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Xcvh', 'Rapid', 'dizaur', 1661, 'Alecsandrch71', 1706, 'e4,e5,Nc3,Nf6,Nf3,Bb4,a3,Bxc3,dxc3,Nxe4,Qe2,d5,Nxe5,O-O,f3,Nf6,Bg5,Re8,f4,h6,Bxf6,Qxf6,O-O-O,Qxf4+,Kb1,Rxe5,Qb5,c6,Qc5,b6,Qd6,Nd7,Bd3,Qf6,Qc7,Nc5,Rhf1,Re7', 'Qd8+,Re8,Qxe8#', 'https://lichess.org/training/6Xcvh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6XDhy', 'Blitz', 'PatoUlman', 1744, 'aboraia', 1641, 'e4,e6,d4,g6,c3,Bg7,f4,Nf6,Nf3,Nxe4,Bd3,d5,O-O,O-O,Qe2,Nd6,Be3,Re8,Nbd2,Nd7,Ne5,Nxe5,fxe5,Nf5,Bxf5,exf5,Nf3,c5,Bg5,Qb6,Kh1,Bd7,Qf2,Rac8,Qh4,cxd4,cxd4,Rc4,b3,Rc2,Bh6,Qa6,Bxg7,Kxg7,Ng5,h6,Nxf7,Kxf7,Qxh6,Rg8,Qh7+,Rg7,Qh4,Rxa2,Rae1,Bb5,e6+,Kg8,Rf3,Ra1', 'Qd8+,Be8,Qxe8+,Kh7,Rh3#', 'https://lichess.org/training/6XDhy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6XFok', 'Rapid', 'puppoo1981', 1635, 'mbeer', 1877, 'c4,g6,d4,Nf6,Nc3,Bg7,e4,d6,Be2,O-O,Nf3,Bg4,O-O,Nbd7,Be3,c5,d5,Bxf3,Bxf3,Ne5,Be2,a6,f4,Ned7,e5,dxe5,fxe5,Nxe5,Bxc5,Qc7,Na4,Ne4,Bb6,Qd7,Qc2,f5,Rad1,Rac8,c5,Rf6,Qb3,Kh8,Rf4,Bh6,Rh4,Bg5,Rh3,Ng4,c6,bxc6,dxc6,Qxc6,Bf3,Rb8,Qb4,Rxb6,Rd8+,Kg7,Qxe7+,Rf7', 'Rxh7+,Kxh7,Qxf7+,Kh6,Rh8#', 'https://lichess.org/training/6XFok');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6XFwD', 'Rapid', 'Lukas2510', 1678, 'Malange', 1669, 'e4,d5,e5,Nc6,d4,e6,Nf3,Bb4+,Bd2,Qe7,Bxb4,Qxb4+,c3,Qxb2,Nbd2,Qxc3,Rc1,Qb4,Qb3,Qa5,Bd3,Nge7,O-O,a6,Qb2,b5,Nb3,Qb6,Nc5,a5,Bxb5,O-O,Rb1,Nb4,a4,c6,Be2,Nf5,g4,Nh6,Nd2,Qd8,h3,Qg5,Kh2,Qf4+,Kh1,f5,Qc3,fxg4,hxg4,Nxg4,Qg3,Qh6+,Kg2,Nxf2,Rxf2,Rxf2+,Qxf2,Qxd2,Rf1,Ba6', 'Qf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/6XFwD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6xHRy', 'Classical', 'assof', 1699, 'Fionaaa', 1620, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Bc5,c3,Qb6,Be2,Nc6,Be3,Nf6,Bf3,O-O,O-O,a5,b3,Ne5,Bg5,Bxd4,Bxf6', 'Nxf3+,Qxf3,Bxf6', 'https://lichess.org/training/6xHRy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6xjiI', 'Rapid', 'ahmedh123', 1747, 'adel1000', 1688, 'd4,d5,c4,dxc4,e3,c5,Bxc4,cxd4,Qxd4,Qxd4,exd4,e6,Nf3,Nf6,Nc3,Nc6,O-O,Be7,Re1,O-O,d5,exd5,Nxd5,Nxd5,Bxd5,Bb4,Rd1,Bg4,a3,Bc5,b4,Be7,h3,Bh5,Rd3,Bxf3,Rxf3,Ne5,Re3,Bf6,Rb1,Rad8,Bxb7,Rd1+,Kh2,Nc4,Re2,Be5+,g3,Re8,Rc2', 'Nxa3,Bxa3,Rxb1', 'https://lichess.org/training/6xjiI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6xjV6', 'Rapid', 'Tiniogt', 1720, 'samiov', 1702, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,e3,d6,d4,e5,d5,Bg4,Nf3', 'e4,Nxe4,Nxe4', 'https://lichess.org/training/6xjV6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6xK6V', 'Classical', 'Weston91', 1709, 'hm_odi', 1768, 'e4,e5,Bc4,Nf6,Nc3,Be7,Nf3,O-O,Nxe5,d6,Nxf7,Rxf7,Bxf7+,Kxf7,Qf3,Kg8,Nd5,Nxd5,exd5,Nd7,d3,c6,dxc6,Ne5,Qd5+,Kh8,cxb7,Bxb7,Qxb7,Rb8,Qxa7,Ng4,c4,Qe8,O-O,Rd8,b4,Bf6,Rb1,Qe5,f4,Qc3,b5', 'Bd4+,Qxd4,Qxd4+', 'https://lichess.org/training/6xK6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6xkM1', 'Blitz', 'TaleEgypt1', 1508, 'Sandile_Prince', 1546, 'e4,e5,Nf3,Bc5,Bc4,d6,c3,Bg4,h3,Bxf3,Qxf3,Nf6,O-O,Nbd7,Rd1,c6,d4,exd4,cxd4,Bb4,Bf4,c5,a3,Ba5,dxc5,dxc5,e5,Qb6,exf6,Nxf6,Qe3+,Kf8,Nc3,Bxc3,Qxc3,h6,Bd6+,Kg8,b4,cxb4,Bxb4,Rd8,Rxd8+,Qxd8,Bb3,Kh7,Qc2+,g6,Bc3,Kg7,Rd1,Qe7,Bxf6+,Qxf6,Qc7,Re8,Rd6', 'Re1+,Kh2,Qf4+,g3,Qxf2#', 'https://lichess.org/training/6xkM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Xkxa', 'Bullet', 'Goktug201314', 1560, 'efe_isik13', 1912, 'e4,e5,Nf3,f6,Bb5,b6,Nh4,h5,c4,Kf7,Qxh5+,Ke6,Qd1,Kf7,Nc3,Ke8,Nd5,Bb7,Nxb6,axb6,d4,exd4,g4,Rxh4,Ba4,Rxa4,b3,Rxc4,bxc4,Bxe4,Rf1,Rxh2,Qxd4,Rh1', 'Qxe4+,Qe7,Qxe7+,Nxe7,Rxh1', 'https://lichess.org/training/6Xkxa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6xLhq', 'Rapid', 'stefan7210', 1895, 'best_player_2020', 1935, 'e4,e6,d4,d5,exd5,exd5,Bd3,Bd6,Nf3,Nc6,c3,Nge7,Bg5,Bg4,Nbd2,Qd7,Qc2,O-O-O,b4,f6,Bh4,Ng6,h3,Rde8+,Kd1,Nxh4', 'hxg4,Nxg2,Bf5', 'https://lichess.org/training/6xLhq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6xm5K', 'Blitz', 'SleepyKoalaReloaded', 1931, 'JT5150', 1941, 'd4,g6,Nf3,Bg7,c4,c5,d5,d6,Nc3,Bxc3+,bxc3,f5,Bg5,Nd7,Qc2,Ngf6,Nd2,Qa5,f3,Ne5,e4,fxe4,Bxf6,exf6,Nxe4,Bf5,Nxd6+,Ke7,Nxf5+,gxf5,Bd3,Rhg8,O-O,Kd6,f4,Ng4,Rae1,Rae8,Qd2,Qa4,Bxf5,Qxc4,Re6+,Rxe6,dxe6+,Kc7,Qd7+,Kb6,Rb1+,Ka5,Qc7+,b6,Qxa7+,Qa6,Qf7,Nh6,Qxf6,Nxf5,Qxf5,Qe2,Qh3,Rg6,c4,Ka6,f5,Rf6,Qc3,Rxf5,Re1', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/6xm5K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6xqtK', 'Rapid', 'Bugraa45', 1777, 'refref59', 1762, 'e4,e5,Nf3,d6,Bc4,Bg4,Nc3,Nf6,h3,Bh5,Be2,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Bxe2,Nxe2,Be7,O-O,O-O,Be3,c5,Qc3,b6,Ng3,h6,Rfd1,Qc7,Qd2,Rad8,f3,d5,Bf4,Qc6,Nf5,Rfe8,Be5,dxe4', 'Nxe7+,Rxe7,Qxd8+', 'https://lichess.org/training/6xqtK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Xrvy', 'Rapid', 'fusionnator', 1760, 'IwinyouFish', 1753, 'b3,Nf6,Bb2,d5,g3,d4,Bg2,e5,d3,Bf5,c3,Nc6,cxd4,e4,dxe4,Nxe4,Nf3,Bb4+,Nbd2,Nxd4,Bxd4,Bxd2+,Nxd2,Qxd4,Bxe4,Bxe4,Nxe4,Qxe4,O-O,Rd8,Qb1,Qg4,Qc2,c6,Rad1,O-O,e4,Rfe8,Rxd8,Rxd8,e5,h6,Qc5,Rd5,Qxa7,Rd1,Qb8+,Kh7,Qxb7,Rxf1+,Kxf1,Qd1+,Kg2,Qd5+,Kg1,Qxe5,Qxc6,Qa1+,Kg2,Qxa2,b4,f5,b5,g5,b6,Qb1,b7,f4,Qc7+,Kg6,b8=Q,Qe4+,Kg1,Qe1+,Kg2,Qe4+,f3,Qe2+,Kh3', 'Qf1+,Kg4,h5#', 'https://lichess.org/training/6Xrvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6xTgI', 'Rapid', 'guru1000', 2088, 'fogof', 2183, 'Nh3,d5,g3,c6,Bg2,e5,d3,Nd7,f4,f6,O-O,Bc5+,Kh1,Ne7,e4,O-O,f5,b5,g4,h6,Qe2,Re8,Nc3,b4,Nd1,Qb6,Be3,dxe4,dxe4,Ba6,Bxc5,Nxc5,Qf2,Bxf1,Qxf1,Red8,Ne3,Qb5,Nc4,Rd4,b3,Rad8,Nf2,a5,h4,a4,g5,hxg5,hxg5,fxg5,Ng4,Nxe4,Bxe4,Rxe4,f6,gxf6', 'Nxf6+,Kg7,Nxe4', 'https://lichess.org/training/6xTgI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6xUUI', 'Blitz', 'jollehoogstra', 1505, 'bled1958', 1602, 'e3,e5,Bd3,Bc5,Nf3,d6,O-O,h6,a3,Nf6,Bc4,Be6,d4,Bxc4,dxc5,Bxf1,cxd6,Qxd6,Qxf1,Nc6,Nc3,O-O-O,Nb5,Qd1,Ne1,Ne4,f3,Nd6,b4,Nxb5,Bb2,f6,Rxd1,Rxd1,Qe2,Rhd8,Kf2,Rb1,Nd3,f5,Bxe5,Nxa3,Bxg7,Nc4,Ne5,N6xe5,Bxe5,Nxe5,f4,Ng4+,Kf3,Rdd1,Qc4,a6,Qg8+,Kd7,h3,Rf1+,Kg3,Nxe3,Qf7+,Kc6,Qf6+,Kb5,Qd4,Rfe1', 'Qc5+,Ka4,Qa5#', 'https://lichess.org/training/6xUUI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6XXZj', 'Rapid', 'Gucki5', 1661, 'LemonFizzle', 1636, 'e4,e6,d4,d5,e5,f6,Nf3,Nd7,Bb5,c6,Ba4,Qa5+,Nc3,b5,Bb3,fxe5,Nxe5,Ngf6,Nxc6,Qb6,Ne5,Nxe5,dxe5,Nd7,Be3,Bc5,Bxc5,Qxc5,Qe2,O-O,O-O,Ba6,a3,Qb6,Qe3,Qxe3,fxe3,Nxe5,Rxf8+,Rxf8,Ne2,Nc4,Bxc4,bxc4,Nd4,e5,Nc6,Rf7,Nxe5,Re7,Ng4,Re4,h3,h5,Nh2,Rxe3,Nf3,Bb7,Nd4,Re4,c3,Bc8,Rf1,Re3,Rf3,Rd3,Kf2,Rd2+,Ke3,Rxb2,Rf2,Rb6,Nf5,Rb7,Nd6,Re7+,Kd4,Be6,Nf5,Rf7,Ke5,Kf8,Kxe6,g6,a4,gxf5,Rxf5', 'Rxf5,Kxf5,d4', 'https://lichess.org/training/6XXZj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Y0rn', 'Blitz', 'IM Machinegunusa', 2566, 'DeanJager', 2446, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Bc5,c3,d6,h3,Bb6,O-O,h6,a4,Rb8,axb5,axb5,Be3,O-O,Bxb6,Rxb6,Nbd2,Qe7,Re1,Be6,Bc2,Nh7,d4,Bd7,d5,Nd8,Ra7,Rb7,Qa1,f5,exf5,Bxf5,Bxf5,Rxf5,Rxb7,Nxb7,Qa6,Nc5,Qxb5,Ng5,Nd4', 'Nxh3+,gxh3,Qg5+', 'https://lichess.org/training/6Y0rn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6y3wx', 'Classical', 'alisheda', 1887, 'alanpc8', 1737, 'd4,d5,c4,e6,e3,Nf6,Nf3,Nc6,Nc3,g6,Bd3,Bg7,cxd5,exd5,O-O,Be6,h3,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Nxd4,Bxb7,Nxf3+,Qxf3,Rb8,Ba6,Qd6,Be2,Bxb2,Bxb2,Rxb2,a4,Bd5,Qd3,Re8,Bf3,Rb3', 'Qxd5,Qxd5,Bxd5', 'https://lichess.org/training/6y3wx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6y7KQ', 'Rapid', 'FYEO', 1790, 'STALINGRAD', 1942, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,f4,e6,Nf3,Be7,Bg2,Bh4+,Nxh4,Qxh4+,Kf1,h5,g5,Ne7,Nc3,Nf5,Ne2,f6,exf6,gxf6,Ng1,fxg5,Nf3,Qg4,Rg1,gxf4,Bh1,Ng3+,hxg3,fxg3,Be3,O-O,Ke1,Qf5,Kd2,c5,Rxg3,Nc6,Rc1,cxd4,Nxd4,Nxd4,Bxd4', 'Qf4+,Be3,Qxg3', 'https://lichess.org/training/6y7KQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Y9C9', 'Rapid', 'Robert1962', 1634, 'stuartv', 1607, 'd4,Nf6,e3,e6,Nf3,d5,h4,h6,c3,c5,Qa4+,Bd7,Bb5,Nc6,Ne5,Rc8,Nxc6,Bxc6,Bxc6+,Rxc6,Qxa7,Qc8,Nd2', 'Ra6,Qxa6,bxa6', 'https://lichess.org/training/6Y9C9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Ya5L', 'Rapid', 'marciclabas', 2152, 'GM Infernal_XaM', 2579, 'd4,Nf6,Nf3,e6,g3,c5,Bg2,cxd4,Nxd4,d5,O-O,e5,Nb3,h6,c4,d4,e3,Nc6,exd4,exd4,Bxc6+,bxc6,Qxd4,Be6,Re1,Be7,Qxd8+,Rxd8,Na5', 'Bb4,Nxc6,Bxe1', 'https://lichess.org/training/6Ya5L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6YDA3', 'Classical', 'MichalPawlak', 2065, 'Rickiboulous1', 2111, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,Nf3,d5,cxd5,exd5,e3,c6,Bd3,h6,Ne5,Nbd7,f4,Qe7,O-O,c5,a3,Ba5,dxc5,Nxe5,fxe5,Qxe5,b4,Bc7,g3,Bh3,Rf2,d4,exd4,Qe1+,Bf1,Ng4,Rf3,Rae8,Bb2,Bxf1,Rxe1,Rxe1,Rxf1', 'Rxf1+,Kxf1,Ne3+,Ke2,Nxc2', 'https://lichess.org/training/6YDA3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6yG0k', 'Classical', 'fortunat0', 1771, 'miguelosky', 1663, 'e4,g6,Nf3,a6,Bc4,Bg7,Nc3,Nc6,d4,d6,Be3,Nf6,Qd2,O-O,h4,Ng4,h5,Nxe3,Qxe3,Nb4,O-O-O,Bg4,hxg6,Bxf3,gxf3,e6,Rxh7,fxg6,Rxg7+,Kxg7,Bxe6,Qf6,d5,Qxf3', 'Qd4+,Rf6,Qxb4', 'https://lichess.org/training/6yG0k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Yg0Q', 'Rapid', 'CASL', 1913, 'Master85', 1919, 'e4,e5,Nf3,d6,d4,f5,dxe5,fxe4,Bg5,Be7,Bxe7,Nxe7,exd6,exf3,dxe7,Qxd1+,Kxd1,Kxe7,gxf3,Rd8+,Bd3,Nc6,a3,Ne5,Re1,Kf6,Kd2,Nxf3+,Ke2,Nxe1,Kxe1,Re8+,Kd2,Bg4,Nc3,Rad8,Ne4+,Ke5,Ng5,Kf4,h4,Re2+,Kc3,Rxd3+,cxd3,Rxf2,Nxh7,Rh2,Rf1+,Bf3', 'Ng5,Rxh4,Nxf3', 'https://lichess.org/training/6Yg0Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6YgXY', 'Rapid', 'Snagglepuss1', 1684, 'Bedda3991', 1686, 'd3,d5,Nf3,Nf6,h3,g6,c3,Bg7,Qa4+,Bd7,Qb3,Bc8,Ne5,O-O,Nd2,Nbd7,Nxd7,Qxd7,e3,b6,d4,Bb7,Bd3,Rab8,Bb5,c6,Be2,c5,Bb5,Bc6,Bxc6,Qxc6,Qc2,c4,f3,Nh5,Kf2,Qd6,e4,Qg3+,Kg1,Nf4,Nf1,Qg5,g3,f5,Bxf4,Qh5,g4,Qh4,Bg3,Qg5,h4,Qf6,e5,Qe6,g5,f4,Bf2,Kf7,h5,Rh8,hxg6+,hxg6,Bh4,Rh5,Qg2,Rbh8,Qf2,Qf5,Re1,e6,Nd2,Qxg5+,Bxg5', 'Rxh1+,Kg2,R8h2#', 'https://lichess.org/training/6YgXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6YIFv', 'Blitz', 'Artur24', 1621, 'Sssnakepit', 1713, 'd4,Nf6,Nc3,e6,e4,Bb4,e5,Nd5,Bd2,c5,Nxd5,Bxd2+,Qxd2,exd5,c3,c4,Nf3,O-O,Be2,Qb6,O-O,d6,Bd1,dxe5,dxe5,Qe6,Bc2,Nc6,Rfe1,b5,Bb1,Re8,Qc2,g6,Ng5,Qg4,Qd2,Rxe5,Rxe5,Nxe5,Bc2,Bf5,h3,Qh5,Bxf5,gxf5,Re1,Re8,f4,f6,Nf3,Nxf3+,gxf3,Rxe1+,Qxe1,Qxf3,Qe8+,Kg7,Qe7+,Kh6', 'Qxf6+,Kh5,Qg5#', 'https://lichess.org/training/6YIFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6YiMp', 'Blitz', 'StriderTheWanderer', 1716, 'Unleesh', 1664, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,O-O,O-O,Nc6,Bg5,h6,Bh4,Kh7,Qe2,Bd7,Rad1,Qe8,e5,Nh5,e6,fxe6,Bxe6,Bxe6,Qxe6,Qf7,Qg4,e5,b3,exd4,Nxd4,Nxd4,Rxd4,Bxd4,Qxd4,Rae8,Ne4,Re6,Qd3,Rfe8,Ng3,Nxg3,fxg3,Qd7,g4,Re3,Qc4,R3e4', 'Rf7+,Kg8,Rxd7+,Rxc4,bxc4', 'https://lichess.org/training/6YiMp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6yJN7', 'Blitz', 'wendellshadow13', 2030, 'boysc55', 1985, 'd4,d5,Nc3,Nf6,Bg5,Ne4,Nxe4,dxe4,f3,h6,Bh4,g5,Bf2,Bf5,fxe4,Bxe4,Nf3,Bg7,e3,O-O,Bd3,Bxd3,Qxd3,Nd7,c3,e5,dxe5,Nxe5,Nxe5,Bxe5,Rd1,Qxd3,Rxd3,Rad8,Rxd8,Rxd8,Ke2,b6,h4,g4,h5,Kg7,Rh4,f5,e4,Bf6,Rh1,f4,Bh4,Rd7,g3,f3+,Ke3,Bg5+,Bxg5,hxg5,e5,Rf7,h6+,Kg6,e6,Rh7,Kf2,Kf6,Rh5,Kg6,e7', 'Rxe7,h7,Rxh7,Rxh7,Kxh7', 'https://lichess.org/training/6yJN7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Yjwn', 'Rapid', 'Hussaini786', 1938, 'RayL', 2250, 'e4,c6,Nf3,d5,Nc3,Bg4,exd5,cxd5,d4,Nf6,Bd3,e6,Bg5,Be7,h3,Bh5,Qd2,Nc6,Ne5,Qb6,Na4,Qxd4,Nxc6,bxc6,Nc3,Bb4,O-O,O-O', 'Bxh7+,Nxh7,Qxd4', 'https://lichess.org/training/6Yjwn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Yl85', 'Blitz', 'moftah88', 1655, 'Novichok53', 1679, 'e4,d5,exd5,Qxd5,Nf3,Qd8,Bc4,Nf6,d3,Nc6,Ng5,e6,O-O,h6,Nf3,Bd6,Nc3,Na5,Bb3,Nxb3,axb3,Qe7,Re1,Bd7,Ne4,Nxe4,Rxe4,Qf6,Re1,O-O-O,Rxa7,Kb8,Ra1,Bb5,Nd4,Qxd4,Be3,Qd5,c4,Bxc4,bxc4,Qe5,Qa4,Kc8,g3,h5,Bf4,Qf5,Bxd6,cxd6,Qa8+,Kd7,Qxb7+,Ke8,Qa6,g6,Qc6+,Kf8,Re4,Kg7,Rf4,Qe5,Qc7,Rhf8,Re4,Qxb2,Rae1,Kf6,Qa5,Qc2,Qa1+,Kg5,h4+,Kh6,Qd4,d5,Qe3+,Kg7,cxd5,exd5,Rf4,d4,Qe5+,Kg8,Qg5,Qxd3,Qh6,Qc3,Rfe4,Rfe8', 'Rxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/6Yl85');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6yRjJ', 'Rapid', 'lander', 1955, 'tkdaddi', 2067, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Bc4,e6,cxd4,d6,Nf3,Nc6,Nc3,Nxc3,bxc3,dxe5,dxe5,Qxd1+,Kxd1,Bc5,Ke2,Bb6,Be3,Bc7,Bf4,f6,Rhe1,fxe5,Bg3,O-O,Kf1,Ba5,Rac1,Bd7,Nxe5,Nxe5,Rxe5,Rae8,Ke2,Bc7,Re3,Bxg3,Rxg3,Rf4,Bb3,Kf8,Re3,e5,Re1,Bb5+,c4,Bxc4+,Bxc4,Rxc4,Kd3,Rd4+,Kc3,Rc8+,Kb2,Rd2+,Kb3,Rxf2,Rg3,Re8,Rg5,e4,Re3,Kf7,h3,Kf6,Rg4,Kf5,Rxg7,Rd8', 'Rf7+,Ke5,Rxf2', 'https://lichess.org/training/6yRjJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6yxy3', 'Blitz', 'RemiGonzalez', 1517, 'babyshark09', 1501, 'e4,c6,Nf3,d5,Nc3,Bg4,d3,e6,h3,Bxf3,Qxf3,Nf6,Be2,Bc5,O-O,Nbd7,Be3,Ne5,Qg3,Bd6,Qxg7,Rf8,Bg5,Be7,Bh6,Nh5,Qxh7', 'Nf6,Qg7,Rg8,Qxg8+,Nxg8', 'https://lichess.org/training/6yxy3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6z0bV', 'Blitz', 'Mikitch', 1662, 'NeatSheap', 1680, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,e6,Nf3,Nc6,O-O,Nf6,e5,dxe5,Qxd8+,Nxd8,Nb5,e4,Ne5,Rb8,Bd2,Bd7', 'Nc7+,Ke7,Bb4#', 'https://lichess.org/training/6z0bV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6z1K2', 'Rapid', 'alessonfontoura', 1606, 'ihaightu', 1719, 'd4,d5,Nf3,e6,Nc3,Bd6,e3,Nf6,h3,c6,Bd3,b5,a3,Qc7,O-O,Nbd7,Bd2,h6,Re1,e5,dxe5,Bxe5,Nxe5,Nxe5,b4,O-O,e4,d4,Na2,Be6,Nc1,Rad8,Qe2,Qd7,Nb3,Bxh3,Nc5,Qc8,gxh3', 'Qxh3,f4,Nf3+,Qxf3,Qxf3', 'https://lichess.org/training/6z1K2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Z2yj', 'Rapid', 'drackey', 1612, 'JAIMEACV', 1637, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nf3,Bg4,h3,Bh5,Be2,Nd7,Nc3,Be7,Bf4,Ngf6,Bxd6,O-O,Bxe7,Qxe7,O-O,Rad8,Nd5,Qxe4,Nxf6+,Nxf6,Qe1,Rfe8,Bd3,Qc6,Ne5,Qd5,f4,Nd7,Qh4,Nf6,Rad1,Qxa2,b3,Qb2,g4,c4,Bxh7+,Nxh7', 'Rxd8,Rxd8,Qxd8+', 'https://lichess.org/training/6Z2yj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6z73z', 'Rapid', 'macpac', 1772, 'zelenizub1', 1778, 'e4,c5,d3,d6,c4,Nc6,b3,Nf6,Bb2,e6,Nf3,Be7,Be2,O-O,O-O,a6,a3,b5,Nbd2,b4,axb4,Nxb4,h3,Bb7,Nh2,d5,cxd5,exd5,e5,Nd7,f4,d4,Ne4,Nb6,Bf3,N6d5,Qe2,Nxf4,Qd2,Nfxd3,Nf6+,Bxf6,Bxb7,Bg5,Qe2,Be3+,Kh1,Rb8,Bxa6,Nxb2,Qxb2,Nxa6,Rxa6,c4,Rd6,Rxb3,Qa2,Qe7,Rc6,Qxe5,Rxc4,Rc3,Ng4,Qg3,Nxe3,Rxe3,Rc2,Re1', 'Qxf7+,Rxf7,Rc8+,Re8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/6z73z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6zBzF', 'Blitz', 'Silenzo', 1587, 'r3f3l', 1530, 'e4,d5,exd5,Bf5,Bc4,c6,Nc3,Nf6,dxc6,Nxc6,Nf3,e6,d3,Bb4,O-O,O-O,Bg5,h6,Bh4,Bxc3,bxc3,Re8,h3,Qc7,Bxf6,gxf6,Nd4,Kh7,Nxf5,exf5,Qh5,Ne5,Bb3,Rg8,Qxf5+,Rg6,d4,Nc4,h4,Rg8,g3,Kh8,Qd5,Nd2,Qxf7,Rxg3+,fxg3', 'Qxg3+,Kh1,Qxh4#', 'https://lichess.org/training/6zBzF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ZfAb', 'Rapid', 'frandy', 1874, 'joelvillegas', 1795, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Be2,Nf6,Nc3,O-O,O-O,d6,f4,Bd7,Qe1,Qc8,Rc1,Nxd4,Bxd4,Nxe4', 'Bxg7,Qc5+,Kh1,Kxg7,Nxe4', 'https://lichess.org/training/6ZfAb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6zhDm', 'Rapid', 'Sokol2019', 1726, 'ivanoff23', 1901, 'd4,d5,Bf4,Bf5,e3,Nf6,Bd3,e6,Bxf5,exf5,Nf3,Nc6,c3,Bd6,Bg3,Bxg3,hxg3,h6,Nbd2,Ne4,Nxe4,fxe4,Nh4,Qf6,Qg4,h5,Qf5,Qd8,O-O-O,g6,Nxg6,fxg6,Qxg6+,Kd7,Qf5+,Ke7,g4,Qd6,gxh5,Raf8,Qg5+,Kd7,f4,Rhg8,Qh4,Rxg2', 'Qh3+,Qe6,Qxg2', 'https://lichess.org/training/6zhDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ZLh7', 'Rapid', 'Morgondimma', 1963, 'AmoghDDixit', 1982, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bg5,e5,Nxc6,bxc6,Bc4,Be7,O-O,O-O,h3,h6,Bh4,Bb7,Re1,Rc8,a3,c5,Bd5', 'Nxd5,Nxd5,Bxh4', 'https://lichess.org/training/6ZLh7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6zLyb', 'Rapid', 'Diablo971', 1644, 'J20_26', 1615, 'e4,d5,e5,Nc6,d4,g6,Nf3,Bg7,Bd3,h5,c3,a6,h3,Bd7,Bf4,f6,Bxg6+,Kf8,Qe2,Bh6,Bxh6+,Rxh6,Bd3,b6,e6,Bxe6,Qxe6,Na7,Nh4,Qe8,Nf5,Rg6,Nd6,cxd6,Bxg6,Qxg6,g3,h4,Rg1,Qc2,Nd2,Qxb2,Rb1,Qxc3,Qg4,Nh6,Qxh4,Nf7,Qf4,Nb5,Kf1,Na3,Rb3,Qc1+,Kg2,e5,Rxc1,exf4,Rxa3,Re8,Rxa6,Re2,Rd1,fxg3,Kxg3,Ng5,Nf3,Ne4+,Kg2,Rxf2+,Kg1,Rxf3,Rxb6,Rg3+,Kh2,f5,a4,f4,a5,f3,Rf1', 'Rg2+,Kh1,Ng3#', 'https://lichess.org/training/6zLyb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6zok3', 'Rapid', 'Ryslan8', 1775, 'flo30694', 1773, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,g6,Be3,Bg7,Bd3,Nf6,O-O,O-O,h3,a5,Na4,c5,Nc3,Rb8,Rb1,Rb4,a3,Rb6,Na4,Rb7,Nc3,Bd7,Re1,Qc7,Bg5,Bc6,Be3,Rfb8,Bc1,e6,b3,a4,Bc4,d5,exd5,Nxd5,Nxd5,exd5,Bd3,axb3,cxb3,c4,Bc2,d4,Qg4,d3,Bd1,c3,Bf4,Qb6,Bxb8,c2,Bxc2,dxc2,Rbc1,Rxb8,Rxc2,Qxb3,Rxc6,Qxa3,Rc8+,Rxc8,Qxc8+,Bf8,h4,Qb4,Re8,Kg7,Qc1,Qxh4,Qa1+,Kg8,Qa3,Qh6,Qc3,Qf4,Re3,Bg7,Qc8+,Bf8,Rf3,Qd6,Qc2,Qb4,Qe2,Qb1+,Kh2,Bd6+,g3,Qb4,Qe8+,Kg7,Qxf7+,Kh6,Qf6,Bc7,Kg2,Qe4,Qf8+,Kh5,Qc5+,Be5,Qa3,Kh6,Qf8+,Kg5,Kh2,Qh4+,Kg2,Qe4,Kh3,Bd6,Qf6+,Kh6,Re3', 'Qh1+,Kg4,Qh5#', 'https://lichess.org/training/6zok3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6zpe0', 'Classical', 'magisnus', 1902, 'Sreeni77', 1969, 'e4,c5,c3,d5,exd5,Qxd5,Nf3,Nf6,Na3,a6,d4,Nc6,Bc4,Qe4+,Be3,Bg4,Qa4,Bxf3,gxf3,Qxf3,O-O,Qg4+,Kh1,Qe4+,Kg1,Ng4,dxc5,Qg6,Kh1,Ne5,Bd5,e6,Be4,f5,Rg1,Qf7,Bg2,Be7,Nc4,Nxc4,Qxc4,O-O,f4,Rac8,a4,Bf6,Rad1,Kh8,Rd3,Rfe8,Rgd1,Qg6,Rd7,e5,Bd5,Qg4,Rg1,Qh5,Rxb7,Na5,Qxa6,Nxb7,Qxb7,Rb8,Qf7,Qe2,fxe5,Rf8,Qc7,Rbc8,Qd7,Rcd8,Qe6,Rfe8,exf6,Rxe6', 'fxg7+,Kg8,Bxe6#', 'https://lichess.org/training/6zpe0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6zu7i', 'Classical', 'falanghi', 1900, 'Richard072017', 1711, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nd4,Nxd4,exd4,Qxd4,b6,Bc4,Bc5,Qxg7,Qf6,Qxf6,Nxf6,f3,Bb7,Bg5,Bd4,c3,Be5,f4,Nxe4,fxe5,Nxg5,O-O,Rg8,Kh1', 'Nh3,Rf3,Bxf3', 'https://lichess.org/training/6zu7i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6Zvdx', 'Blitz', 'Maurer747', 1698, 'quagmirexxx', 1797, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Nc6,Ndf3,cxd4,cxd4,f6,Bd3,fxe5,fxe5,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Ne2,Kh8,O-O,Qe7,Ng5,h6,Rxf8+,Nxf8,Nh3,Bd7,Rf1,Nb4,Bb1,Bb5,a3,Nc6,Rf2,Bxe2,Qxe2,Nxd4,Qd3,Nf5,g4,Nh4', 'Rxf8+,Qxf8,Qh7#', 'https://lichess.org/training/6Zvdx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ZVeZ', 'Classical', 'Aleksius1', 1619, 'darkthings8', 1617, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,g6,c4,Bg7,Nc3,O-O,h3,Nc6,Nxc6,bxc6,O-O,Be6,b4,Qb6,Qb3,Rab8,a3,a5,Rb1,axb4,axb4,Qd4,Rd1,c5,b5,Nd7,Be3', 'Qxc3,Qxc3,Bxc3', 'https://lichess.org/training/6ZVeZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('6ZX1T', 'Rapid', 'tottochan', 1910, 'R4v1ngKn1ghts', 1880, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be6,Be3,Nbd7,Nd5,Bxd5,exd5,b5,c4,b4,Bd3,a5,a4,Rc8,O-O,Be7,Rc1,O-O,Bb1,Ne8,Qd3,f5,g4,g6,Bh6,Rf7,gxf5,gxf5,Rf2,Bh4,Rg2+,Ng7,f4,e4,Qd4,Bf6,Qf2,Kh8,Nd4,Nc5,Qe3,Qd7,Kh1', 'Bxd4,Qxd4,Nb3,Qd1,Nxc1', 'https://lichess.org/training/6ZX1T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('70HN1', 'Rapid', 'thexord', 1804, 'Burevisnyk', 1728, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,e5,Nb5,Qb6,a4,c6,a5,Qd8,dxe5,Qe7,Nd6+,Kd8,Be2,Nd5,Bg5,f6,exf6,gxf6,Nxc8,Kxc8,Bd2,Rg8,c4,Nc7,g3,Ne6,Nf3,Nd7,O-O,Ng5,Nh4,Qe4,f3,Nh3+,Kh1,Qe6,Re1,Ne5,Kg2,Bd6,Bf1,Kc7,f4,Qf5,fxe5,Qf2+,Kxh3,Bxe5,Be3', 'Rxg3+,hxg3,Qxg3#', 'https://lichess.org/training/70HN1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('70nQP', 'Rapid', 'fkahan', 1666, 'CATATUS', 1763, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,g4,Bg6,d4,Bxe4,dxe5,Qe7,Be3,Bxf3,Qxf3,dxe5,Nc3,c6,O-O-O,Nf6,Na4,Nbd7,Nc3,g6,g5,Nh5,Be2,Ng7,h4,Rd8,Bxa7,Nf5,Ne4,Bg7,Nd6+,Nxd6,Rxd6,Qxd6,Bc4,O-O,h5,Rde8,hxg6,Qxg6,Qg4,Nf6,Qg3,Nd7,Rd1,Ra8,Be3,Rad8,f4,b6,Bd3,e4,Bc4,c5,Qg4,Nb8,Rh1,Kh8,f5,Qc6,g6,fxg6,fxg6,h6,Bxh6,Bxh6+,Kb1,Qf6', 'Rxh6+,Kg7,Rh7#', 'https://lichess.org/training/70nQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('70nWR', 'Rapid', 'bahaa_maswadeh', 2088, 'KSYY', 2060, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,Qa5,Be2,Nxe4,O-O,Nxc3,bxc3,Qxc3,Nb5,Qa5,Bd2,Qd8,Re1,a6,Nc3,e6,Bf3,Be7,Ne4,O-O,Bc3,d5,Ng3,Bf6,Bxf6,Qxf6,c4,dxc4,Ne4,Qd4,Qc2,Ne5,Rad1,Nxf3+,gxf3,Qe5,Qxc4,Qh5,Re3,b5,Qc6,Rb8,Nd6,Rd8,Red3,e5,Nxc8,Rdxc8', 'Qxc8+,Rxc8,Rd8+,Rxd8,Rxd8#', 'https://lichess.org/training/70nWR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('70qAY', 'Rapid', 'juegasiempre', 1660, 'Lodobrini7', 1631, 'd4,Nf6,c4,e6,Nc3,Bb4,a3,Bxc3+,bxc3,O-O,Bg5,b6,Nf3,Bb7,e3,d6,Be2,Nbd7,O-O,h6,Bxf6,Nxf6,Qc2,Re8,Rfd1,c5,a4,Qc7,h3,Rad8,Nh4,cxd4,cxd4,Rc8,Nf3,d5,Rdc1,Ba6,Ne5,Nd7,Nxd7,Qxd7,Qa2,Rc7,cxd5,Rxc1+,Rxc1,Bxe2,dxe6,Rxe6,Qxe2,Qxd4,Rc8+,Kh7,Qc2+,Qe4,Qb3,Qb7,Qc3,Re7,Rc4,f6,Qd3+,g6,Rg4,Rg7,Rb4,Rd7,Rd4,Re7,Qb3,Kg7,Rd8,Rf7,Qb5,Rc7', 'Qe8,Rc1+,Kh2', 'https://lichess.org/training/70qAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('70QuC', 'Blitz', 'Thayron', 1762, 'Sammuel_BR', 1865, 'd4,c5,Nf3,cxd4,Nxd4,e5,Nf3,Nc6,e4,Nf6,Nbd2,Bc5,Bc4,O-O,O-O,a6,b3,b5,Be2,Bb7,a3,Re8,Bb2,Nd4,Nxd4,Bxd4,Bxd4,exd4,f3,d5,exd5,Qxd5,Bd3,Ng4,Be4,Qd6,fxg4,Bxe4,Nxe4,Rxe4,Qf3,Qe7,Rad1,Rf8,Qf2,Re2,Qxd4,Rxc2,Qd7,Qxa3,Qb7,Qc5+,Kh1,Qc6', 'Qxf7+,Rxf7,Rd8+,Qe8,Rxe8+,Rf8,Rfxf8#', 'https://lichess.org/training/70QuC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('70rM6', 'Rapid', 'Kovacic65', 2142, 'sazhiK', 1771, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,d6,c3,Nxe4,d4,Nf6,dxe5,b5,exf6,bxa4,Re1+,Be6,Qxa4,Qd7,Ng5,gxf6,Nxe6,fxe6,Nd2,O-O-O,Qxa6+,Kb8,b4,Na7,c4,Qc6,Qa5,Rg8,g3,Bh6,b5,Qc5,Ba3', 'Bxd2,Qxd2,Qxa3', 'https://lichess.org/training/70rM6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('70y9w', 'Rapid', 'JoaoJ', 1643, 'jorgemaradi', 1660, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,d4,exd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,Bg5,Be7,Nc3,O-O,Rad1,h6,Bxh6,gxh6,Rd3,Kh7,Rg3,Rg8,Nd5,Nxd5,Qxd5,Rxg3,fxg3,f6', 'Qf7+,Kh8,Rxf6,Bxf6,Qxd7', 'https://lichess.org/training/70y9w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('70YI3', 'Blitz', 'Francisco984', 2058, 'brexitboris420', 2292, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,Bf4,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Be7,O-O,O-O,a3,Rc8,Rac1,Na5,Ne5,Nc4,Na4,b5,Nc3,a6,b3,Bxa3,bxc4,Bxc1,Rxc1,bxc4,Qc2,Nd7,Ra1,Nxe5,Bxe5,Ra8,Na4,f6,Bg3,Qa5,Rb1,Rf7,Nc5,e5,dxe5,fxe5,Nb7,Rxb7,Rd1,d4,exd4,Rc8,dxe5,c3,h3,Rb2,Qf5,Qc5,Rd7,Rf8,Qe6+,Kh8,Qg4,Rg8,Bh4,c2', 'Qxg7+,Rxg7,Rd8+,Qf8,Rxf8+,Rg8,Bf6#', 'https://lichess.org/training/70YI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('70z1A', 'Classical', 'CatMews', 1722, 'Bratislav63', 1839, 'e4,b6,d4,Bb7,Nc3,Nf6,d5,e6,Bg5,Be7,Nf3,Nxd5,Nxd5,exd5,Bxe7,Qxe7,e5,d6,Qd4,dxe5,Qxe5,Qxe5+,Nxe5,O-O,O-O-O,c6,Bd3,f6,Ng4,Nd7,Rhe1,Rfe8,h4,h5,Ne3,Ne5,Nf5,Nxd3+,cxd3,Re5,Nd6,Ba6,d4,Rxe1,Rxe1,Rd8,Nf5,Rd7,Re7,Bc8', 'Re8+,Kf7,Rxc8', 'https://lichess.org/training/70z1A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('71072', 'Rapid', 'kirgis', 1751, 'August_Lenz', 1787, 'e4,c5,g3,e6,Bg2,Nf6,d3,Nc6,Nf3,b6,O-O,Bb7,c3,Rb8,e5,Ng4,d4,cxd4,cxd4,g6,h3,Nh6,Nbd2,Nf5,Nb3,Bg7,g4,Nh4,Nxh4,Qxh4,Bf4,Nb4,Qd2,Bxg2,Kxg2,Nd5', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/71072');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('715F7', 'Blitz', 'Aqua-Regia', 2421, 'FM fb_ruhrpottasylum', 2383, 'e4,e6,d4,d5,Nc3,Nf6,exd5,Nxd5,Nxd5,exd5,Bd3,Bd6,Ne2,Qf6,Be3,Nc6,Qd2,Nb4,O-O,Nxd3,Qxd3,O-O,Ng3,g6,Rfe1,Bd7,Re2,Rfe8,Rae1,h5,Bd2,h4,Rxe8+,Rxe8,Rxe8+,Bxe8,Ne2,Bd7,h3,Bf5,Qf3,Kg7,c3,Be4', 'Bh6+,Kxh6,Qxf6', 'https://lichess.org/training/715F7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('718Wk', 'Rapid', 'riise', 1744, 'georgdev', 1703, 'e4,e5,Bc4,Bc5,Nc3,d6,h3,Nf6,d3,O-O,f4,exf4,Bxf4,a6,a3,h6,Nf3,b5,Ba2,Nbd7,Qe2,b4,axb4,Bxb4,g4,Re8,O-O-O,Bxc3,bxc3,Nc5,g5,Nh5,gxh6,Nxf4,Qd2,Qf6,hxg7,Nxh3,Qg2,Qf4+,Kb1,Bg4', 'Rxh3,Bxh3,Qxh3', 'https://lichess.org/training/718Wk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('71CH2', 'Blitz', 'alsltani', 1618, 'LoanDaMata89', 1605, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Nc6,Bb5,Bd7,Qa4,Be7,d5,Ne5,dxe6,fxe6,Bf4,Bf6,O-O-O,c6,Bxe5,Bxe5,Bc4,b5,Qb4,bxc4,Qxc4,O-O,Nf3,Bf4+,Kc2,Rb8,Rd4,Qc7,Rhd1,Bc8,e5,Bh6,Rd6,Qb6,Rxc6,Qb2+,Kd3,Rd8+,Ke4,Rxd1,Rxc8+,Rxc8,Qxe6+,Kf8,Qxc8+,Kf7,e6+,Kg6', 'Qe8+,Kf6,Qf7#', 'https://lichess.org/training/71CH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('71CV7', 'Rapid', 'csmithers', 2100, 'MrShooko', 2159, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bg5,O-O,f3,a5,Bd3,Na6,Nge2,Nb4,a3,Nxd3+,Qxd3,h6,Bh4,g5,Bf2,Nd7,O-O,c5,Nb5,b6,Rab1,Ba6,b4,axb4,axb4,Bxb5,cxb5,Ra2,bxc5,dxc5,Rfd1,Qc7,Rbc1,Rfa8,dxc5,Nxc5,Bxc5,bxc5,Ng3,Bd4+', 'Qxd4,cxd4,Rxc7', 'https://lichess.org/training/71CV7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('71i5D', 'Rapid', 'MasterSalomon', 2043, 'Bujnaksk', 2064, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d6,g3,O-O,Bg2,Nc6,O-O,e5,dxe5,dxe5,Qb3,Rb8,Rd1,Qe7,Ng5,h6,Bxc6,hxg5,Bxg5,Bh3,Nd5,Qd6,Nxf6+,Bxf6,Rxd6,bxc6,Qc3,Bxg5,Rxc6,Rfe8,Rxc7,Bf6,e4,a5,Ra7,Bd8,b3,Bb6,Rxa5,Bxa5,Qxa5,Rbd8,c5,Rd4,c6,Red8,Re1,Kg7,c7,R8d6,Qxe5+,Kh7,b4,Rd1,Qc3,Rc6,c8=Q,Rxc8,Qe3,Rcd8,b5,R8d3,Qe2,R1d2,f4,Rxe2,Rxe2,Ra3,Rb2,Bc8,Kf2,Bb7,e5,Kg7,h4,Kf8,g4,Ke7,f5,gxf5,gxf5,Kf8,h5,Rh3,e6', 'Rh2+,Ke3,Rxb2', 'https://lichess.org/training/71i5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('71Ia5', 'Classical', 'FGordon', 1933, 'Red_Beaver', 2009, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,d6,Bc4,e6,Nf3,a6,O-O,Nf6,Qe2,Be7,Rd1,Qc7,Bf4,Nc6,Rac1,Nh5,Bg5,Bxg5,Nxg5,Nf6,Nd5,exd5,exd5+,Kf8,dxc6,bxc6,Bxf7,h6,Ne6+,Bxe6,Bxe6,Re8,Qc4,Qe7,Re1,Nd5,Qxa6,Nf4,Bc4', 'Qxe1+,Rxe1,Rxe1+,Bf1,Ne2+,Qxe2,Rxe2', 'https://lichess.org/training/71Ia5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('71ISz', 'Rapid', 'Tpike', 1889, 'arielbarja', 1875, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nc6,Qb3,Qe7,Nxc3,Nf6,Nf3,Nxe4,O-O,Nc5,Qa3,Ne6,Qa4,d6,Nd5,Qd7,Re1,Be7,Nxe7,Nxe7,Bb5,c6,Bd3,Nc5,Qc2,Nxd3,Qxd3,O-O,Bf4,Nd5,Ng5,g6,Bd2,Qf5,Qd4,f6,Ne4,Re8,Nxd6,Rxe1+,Rxe1,Qd7,Re8+,Kg7,Bh6+,Kxh6,Rd8,Qe6', 'Qh4+,Kg7,Ne8+,Qxe8,Rxe8', 'https://lichess.org/training/71ISz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('71j8P', 'Rapid', 'Volodya51', 1984, 'Iplaygambit', 2121, 'e4,e5,Nc3,Nf6,Nf3,Nc6,a3,Nxe4,Nxe4,d5,Ng3,e4,Ng1,Bd6,Bb5,O-O,N1e2,f5,Bxc6,bxc6,Nd4,f4,Nge2,c5,Nb3,f3,gxf3,exf3,Ng3,Bh3,d4,Re8+,Be3,Bg2,Rg1,Qh4,Qd2,cxd4,Nxd4,c5,Ndf5,Qxh2,Qxd5+,Kh8,O-O-O,Be5,Rh1,Bxh1,Rxh1,Qg2,Nd6,Bxd6,Qxd6,Rad8,Qxc5,Rc8,Qh5,Kg8,Qxh7+,Kf8,Bd4,Rc7,Qh8+,Ke7,Qxg7+,Kd8,Qg5+,Kc8,Qf5+,Rd7,Bxa7', 'Qxh1+,Nxh1,Re1#', 'https://lichess.org/training/71j8P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('71lLu', 'Blitz', 'jnaser', 2043, 'mrjib', 1998, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,cxd4,Qxd4,Nc6,Bb5,Bxc3+,Qxc3,Bd7,Nf3,Nge7,O-O,a6,Bxc6,Bxc6,Bg5,Rc8,Qd2,Qd7,Bxe7,Qxe7,Nd4,O-O,Nxc6,Rxc6,c3,Qh4,g3,Qe4,f4,Rc4,Rae1,Qf5,Rd1,h5,Qd3,Qxd3,Rxd3,Rfc8,Rfd1,b5,Kf2,Kh7,Kf3,Kg6,h3,a5,g4,hxg4+,hxg4,f5,exf6,Kxf6,Re3,R8c6,Rde1,b4,axb4,axb4,g5+,Kf7,cxb4,Rxb4,R1e2,Rcb6,g6+,Kf6,Kg4,Rxb2,Re1,Rg2+,Kf3,Rxg6,Ra3,Rh6,Kg4,Rh2,Ra8,Rg2+,Kf3,Rc2,Rf8+,Ke7,Rg8,Rb3+,Kg4,Kf7,Ra8,Rg2+,Kh4,Rgg3,Rh1,Rg6,Rha1,Rbg3', 'R1a7+,Kf6,Rf8#', 'https://lichess.org/training/71lLu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('71njZ', 'Rapid', 'KatrapsAvak', 1856, 'Zugzwang1964', 1856, 'd4,d5,Nf3,e6,Bf4,Nf6,h3,Bd6,Bxd6,Qxd6,e3,O-O,c3,b6,Bd3,Ba6,Bxa6,Nxa6,Nbd2,c5,Qc2,Rac8,Qa4,b5,Qc2,cxd4,exd4,Nb4,Qb1,Nc6,O-O,a5,Re1,b4,Ne5,bxc3,bxc3,Rb8,Qc2,Rfc8,Nxc6,Qxc6,Rec1,Rc7,Nb3,a4,Nc5,Nd7,Qxa4,Nxc5,Qxc6,Rxc6,dxc5,Rxc5,a4,Rbc8,a5,Rxc3', 'Rxc3,Rxc3,a6', 'https://lichess.org/training/71njZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('71sV1', 'Blitz', 'DrinkAndStay', 2341, 'IM MicFed', 2403, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Bxf6,gxf6,Na3,b5,Nd5,f5,Bd3,Be6,c3,Bg7,Nc2,O-O,Nce3,fxe4,Bxe4,f5,Nf6+,Rxf6,Bxc6,Rc8,Bd5,Bxd5,Nxd5,Rg6,g3,Kh8,Qf3,Qf8,O-O-O,e4,Qe2,Re6,Kb1,Re5,f4,exf3,Qxf3,Rc5,Nf4,Re4,Qh5,Qf6,Rhe1,Rxc3,Rxe4', 'Rc1+,Kxc1,Qxb2#', 'https://lichess.org/training/71sV1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('71thq', 'Rapid', 'tishe10x', 1718, 'panterarosa12', 1755, 'e4,e5,d3,d5,Qe2,Nf6,h3,dxe4,dxe4,Nc6,c3,Bc5,g4,O-O,g5,Nd7,h4,f6,f3,f5,Be3,fxe4,Bxc5,Nxc5,fxe4,Qe7,Nd2,Be6,b3,Rad8,O-O-O,Nd3+,Kb1,Qa3,Ndf3,Nf4,Qc2,Bg4,Rxd8,Rxd8,Bc4+,Kf8,Rh2,Na5,Nxe5', 'Rd1+,Qxd1,Bxd1', 'https://lichess.org/training/71thq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('727Fz', 'Classical', 'AMGBogs', 2133, 'mkl48', 1984, 'e4,c5,Nf3,e6,c3,d6,d4,cxd4,cxd4,Ne7,Nc3,a6,e5,Ng6,Be2,Be7,O-O,dxe5,Nxe5,Nxe5,dxe5,Qxd1,Rxd1,O-O,Ne4,Bd7,Nd6,Bc6,Be3,Nd7,f4,Rfd8,Nc4,b5,Na5,Bd5,Rac1,Bb4,Nc6,Bf8,Nxd8,Rxd8,Kf2,f6,exf6,Nxf6,Rc7,Ne4+,Kg1,Ra8,Bf3,Nf6,Rdc1,Bxf3,gxf3,Nd5,Rc8', 'Rxc8,Rxc8,Nxe3', 'https://lichess.org/training/727Fz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('727vW', 'Rapid', 'rmnp', 2321, 'Hahatunchik', 2142, 'c4,e5,Nc3,Nf6,Nf3,Nc6,e3,Bb4,Qc2,Bxc3,Qxc3,Qe7,b3,O-O,Bb2,Re8,Be2,d5,O-O,d4,Qc2,Nb4,Qb1,d3,Bd1,e4,Ne5,Bf5,a3,Nc6,Nxc6,bxc6,f3,Bg6,Bxf6,Qxf6,fxe4,Qd6,b4,Bxe4,Bf3,Re6,Bxe4,Rxe4,c5,Qd5,Qb2,Rae8,Rf3,Rg4,Raf1,f6,h3,Rg5,R1f2,Re4,Kh2,Rge5,Rf4,Qc4', 'Qxe5,Rxe5,Rxc4', 'https://lichess.org/training/727vW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('729Ea', 'Rapid', 'Nooblevel', 1721, 'Purzelbaum1971', 1880, 'd4,Nf6,e3,e6,c3,b6,f4,Bb7,Nf3,c5,Bd3,Qc7,O-O,c4,Bc2,d5,Nbd2,Bd6,Ne5,Nbd7,Qf3,O-O-O,a4,a6,b4,Be7,Ba3,h5,Nxf7,Ng4,h3,Ngf6,Ne5,Nxe5,fxe5,Nh7,Qf7,Ng5,Qg6,Bc6,b5,Be8,Qxg7,Bxa3,Qxc7+,Kxc7,Rxa3,a5,h4,Nf7,Nf3,Nh6,Ng5,Bd7,Bg6,Ng4,Nf7,Nxe3,Rf3,Rhg8,Bxh5,Nxg2,Kf2,Nxh4,Nxd8,Nxf3,Nxe6+,Bxe6,Kxf3,Rh8,Bg4', 'Rf8+,Kg3,Rg8', 'https://lichess.org/training/729Ea');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('729tR', 'Rapid', 'Enrique1117', 2247, 'annasalvato', 1778, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,bxc6,f3,Ng5,f4,Ne4,O-O,Bc5,Be3,Bb6,Nd2,Nxd2,Qxd2,c5,Nb3,d4,Bf2,Bc6,Bg3,c4,Na5,d3+,Bf2,Bb5,cxd3,Bxf2+,Rxf2,cxd3,Nb3,O-O,f5,f6,e6,Qe7,Rc1,Rac8,Nc5,Rfd8,a4,Be8,Rf3,Rd5,Nxd3,Bxa4,Qc3,c5,b3,Bb5,b4,c4,Nc5,Rcd8,h3,Qc7,Nd7,Rc8', 'Nxf6+,gxf6,Rg3+,Qxg3,Qxg3+', 'https://lichess.org/training/729tR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('72d35', 'Rapid', 'noblebear', 2015, 'yak7810', 2084, 'd4,d5,c4,Nf6,Nc3,c6,Nf3,Bf5,Qb3,b6,cxd5,Nxd5,Nxd5,cxd5,e3,a6,a4,e6,Be2,Be7,Bd2,O-O,O-O,Nd7,Qc3,Nf6,b4,Ne4,Qb2,Nxd2,Qxd2,Qd6,b5,a5,Rac1,Rac8,Ne5,Qa3,Ra1,Qc3,Qd1,Bb4,Nc6,Rxc6,bxc6,Qxc6,Bb5,Qd6,Rc1,e5,Qf3,Be4,Qd1,exd4,Qxd4,Qg6,f3,Bf5,Qxd5,Bc5,Qd2,Bh3,Rf2,Be6,Kh1,Qh6,Re2,Qf6,Rd1,g6,e4,h5,Qb2,Qh4,Qe5,Be7,Qg3,Qf6,Qc7,Bc5,Red2,h4,Rd8,Rxd8,Qxd8+,Kg7,Qxf6+,Kxf6,g3,h3,Rc1,Bb3,Rxc5,bxc5,Kg1,c4,Kf2,c3,Ke2,c2,Kd2,Ke5,Bd3,Kd4,Bxc2', 'Bxc2,Kxc2,Ke3', 'https://lichess.org/training/72d35');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('72PtB', 'Rapid', 'KingCarl', 1861, 'kia1956', 1742, 'd4,d5,c4,dxc4,e4,Nf6,e5,Nd5,Bxc4,e6,Ne2,c5,O-O,cxd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Rd1,Be7,Qg4,Rg8,Nbc3,Qc7,Bh6,Qxe5,f4,Qc7,Nxd5,Bxd5,b3,O-O-O,Bg5,f6,Bh4,f5,Qg3,Kb8,Rac1,Qb6+,Kh1,Bxh4,Qxh4,h6,Nc3,Bc6,Re1,g5,fxg5,Rxg5,Rc2,Rdg8,Ree2,h5,Qf4+,Ka8,Qe5,Re8,Qf4,Rg4,Qe5,a6,h3,Rgg8,Nd1,Rg6,Ne3,Rd8,Kh2,Bd5,Nxd5,Rxd5', 'Rc8+,Ka7,Qb8#', 'https://lichess.org/training/72PtB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('72SFj', 'Blitz', 'dipblu', 1812, 'aameza12', 1753, 'e4,Nf6,Nc3,e5,Bc4,Bc5,f4,exf4,d4,Bb4,Nf3,O-O,Qd3,d5,exd5,Re8+,Kf2,Bxc3,bxc3,Nxd5,Rf1,Ne3,Bxe3,Rxe3,Bxf7+,Kxf7,Qxh7,Qf6,Kg1,Bf5,Qh5+,Bg6,Ng5+,Kg8,Qh4,Rxc3,Rxf4,Qb6,Raf1,Nc6,Ne6,Nxd4', 'Rf8+,Rxf8,Rxf8#', 'https://lichess.org/training/72SFj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('72xz9', 'Blitz', 'MdSG1', 1713, 'arethereanybody', 1722, 'e4,e5,f4,d5,exd5,Nf6,fxe5,Nxd5,Nf3,Nc6,d4,Bg4,Bb5,a6,Bxc6+,bxc6,O-O,c5,c3,cxd4,cxd4,c5,Qa4+,Qd7,Qxd7+,Kxd7,Nc3,Kc6,Nxd5,Kxd5,Ng5,Bh5,dxc5,Bxc5+,Kh1,Kxe5,Bf4+,Kd5,a3,f6,Nf3,Rac8,Rad1+,Ke4,Bd2,Rhd8,Rfe1+,Kf5', 'Nh4+,Kg4,Re4#', 'https://lichess.org/training/72xz9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('72Z9G', 'Rapid', 'Xynoff', 2119, 'Putinnumerouno', 1883, 'd4,c5,d5,e5,c4,f5,Nc3,Nf6,Bg5,d6,e4,fxe4,Nxe4,Be7,Bxf6,Bxf6,Nf3,O-O,Be2,Bf5,Ng3,Bd7,Qc2,Na6,a3,Nc7,Ne4,Qe7,g4,Bxg4,O-O-O,b5,cxb5,Rab8,Rhg1,Bxf3,Bxf3,Nxb5,Qd2,Nd4,Qe3,Nxf3,Rg3,Nd4,Rdg1,Rf7,Qh6,Ne2+,Kb1,Nxg3,Rxg3,Kh8,Qh5,Rbf8,Rh3,h6,Qg6,Bg5', 'Nxg5,Qxg5,Qxg5', 'https://lichess.org/training/72Z9G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7370K', 'Bullet', 'Dmitry_Sventitskiy', 1943, 'cristizg', 1993, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,Nc3,Nf6,Bg5,Qc7,Bd3,Be7,O-O,O-O,f4,h6,Bxf6,Bxf6,e5,Be7,Qf3,d6,Qe4,g6,Rf3,d5,Qe3,Kh7,Rh3,Rg8,Kh1,Bf8,Rg1,c5,Ne2,d4,Qd2,Bb7,f5,exf5,Ng3,Qxe5,Re1,Qd5,Rf1,Re8,Nxf5,gxf5,Bxf5+,Rg6,Bxg6+,fxg6,Rxf8,Qxg2+,Qxg2', 'Re1+,Rf1,Rxf1#', 'https://lichess.org/training/7370K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('739Ca', 'Classical', 'www006', 1808, 'carlosarturo', 1835, 'd4,a6,c4,b5,c5,Bb7,Nc3,Nf6,Bg5,e6,e4,Be7,Bd3,b4,Qb3,Bc6,Qxb4,a5,Qb3,O-O,Nf3,h6,Bf4,d6,Qd1,dxc5,e5,Nd5,Nxd5,Bxd5,Qd2,Bxf3,gxf3,cxd4,Bxh6,f5,exf6,Bxf6,O-O-O,Rf7,Rdg1,c5,Rg4,Raa7,Rhg1,Nc6,Qf4,Ne5,Rxg7+,Rxg7,Bxg7,Nxd3+,Kd2,Rxg7,Rxg7+,Kxg7,Kxd3,Bg5,Qe5+,Qf6,Qxc5,Qxf3+,Kc4,Qe2+,Kb3,Qd3+,Ka4,Bd2,Qe7+,Kg6,Qxe6+,Kg5,a3,Qc2+,b3,d3,f3,Bc1,Qe5+,Kg6,Qe6+,Kg7,Qe7+,Kg8,Qe8+,Kh7,Qf7+,Kh6,Qf6+,Kh5,Qf5+,Bg5,f4,Qc6+,Kxa5,Qc7+,Kb5,Qb7+,Kc4,Qa6+,Kc3,Qf6+', 'Qxf6,Bxf6+,Kxd3', 'https://lichess.org/training/739Ca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('73aNo', 'Classical', 'mahmoudismail', 1768, 'ask30m18', 1770, 'e4,e5,Nf3,d5,exd5,Bc5,d4,exd4,Nxd4,Qe7+,Be2,Nf6,Bg5,h6,Bxf6,gxf6,Nf5,Qe5,Ng7+,Kf8,Nh5,Rg8,Ng3,h5,Nc3,h4,Qd2,Bxf2+,Kxf2,hxg3+,hxg3', 'Qxg3+,Kf1,Qxg2+', 'https://lichess.org/training/73aNo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('73dZS', 'Blitz', 'Ramisik', 1656, 'nutbutter', 1645, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Bf5,Nf3,Nf6,Bc4,e6,O-O,c6,Bd2,Nbd7,Nb5,Qb6,Nc3,O-O-O,Be3,Qc7,a4,Nb6,a5,Nbd5,Nxd5,Nxd5,Be2,Nxe3,fxe3,a6,Qd2,Bd6,b4,Be4,h3,h6,c4,g5,b5,c5,bxa6,bxa6,Qc3,cxd4,exd4,g4,hxg4,Rhg8,c5,Bf4,Qb4,Be3+,Kh1,Kd7,Rfd1,Rxg4,Ne5+,Ke7,Bxg4,Rg8,Bf3,Bxf3,Nxf3,Qg3,c6+,Kf6,Ra2,Rg4,Qc5', 'Rh4+,Nxh4,Qxh4#', 'https://lichess.org/training/73dZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('73REm', 'Classical', 'TheNextMagnusCarlsen', 1695, 'Adraxluinin', 1707, 'd4,d5,c4,dxc4,Nc3,Nf6,Nf3,e6,Bg5,Be7,e3,O-O,Bxc4,Nc6,O-O,a6,a3,b5,Bb3,Bb7,Bc2,Nd5,Qd3,f5,Bxe7,Qxe7,Nxd5,exd5,Bb3,Na5,Bc2,Nc4,b3,Nd6,Rfc1,Ne4,Nd2,Qf6,f3,Ng5,Bd1,Qg6,Rxc7,Nh3+,Kf1,Qd6,Rxb7,Qxh2,gxh3,Qxh3+,Ke1,Qg3+,Ke2,Rae8,Nf1,Qg2+,Ke1,f4,e4,dxe4,fxe4,Rxe4+,Be2,f3,Qxe4', 'f2+,Kd2,Qxe4', 'https://lichess.org/training/73REm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('73SSm', 'Rapid', 'felipeaq1999', 1794, 'ViceBite', 1803, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,g6,Bg5,Bg7,e3,O-O,cxd5,cxd5,Be2,Nc6,O-O,e6,a3,Bd7,Ne5,Rc8,f3,Qc7,Nxd7,Nxd7,Rc1,Nb6,Nb5,Qd7,e4,dxe4,fxe4,a6,d5,axb5,dxc6,Qxd1,Rfxd1,bxc6,Rc2,f6,Bh4,f5,exf5,exf5,Rd6,Na4,b3,Nc3,Bf3,c5,Be1,b4,axb4,cxb4,Bxc3,Rxc3,Rc6,Rxb3', 'Bd5+,Kh8,Bxb3', 'https://lichess.org/training/73SSm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('73SxN', 'Rapid', 'Poljska_konjica', 1706, 'GAVVAS', 1693, 'e4,c5,Bc4,e6,Nf3,a6,a4,Nf6,Nc3,Qc7,e5,Ng4,d4,Nc6,Ng5,Nxd4,Qxg4,Nxc2+,Kd2,Nxa1,Re1,d5,Ba2,c4,Qf4,Nb3+,Bxb3,cxb3,Re3,Bb4,Qxb4,Bd7,Qxb3,O-O,Rh3,h6,Qc2,Rfc8,Qh7+,Kf8,Nf3,d4,Nxd4,Qxe5,Nf3,Qf4+,Kd1,Bxa4+,Ke2,Qxc1,Qh8+,Ke7,Qxg7,Qxb2+,Nd2,Rd8', 'Nd5+,Rxd5,Qxb2', 'https://lichess.org/training/73SxN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('73UEp', 'Classical', 'timbuktus', 1946, 'trelara', 1907, 'Nf3,Nf6,c4,e6,Nc3,d5,e3,c5,cxd5,exd5,d4,Nc6,h3,h6,Be2,b6,O-O,Be7,Bb5,Bb7,Ne5,Rc8,Qa4,Qc7,Bxc6+,Bxc6,Nxc6,Qxc6,Qxa7', 'Ra8,Qxa8+,Qxa8', 'https://lichess.org/training/73UEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('73XhV', 'Classical', 'Mariovns777', 1700, 'bigdaddy55', 1734, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Bc4,O-O,O-O,Be6,Bb3,Bxb3,axb3,b5,d3,b4,Na4,Bb6,Re1,Qc8,Be3,Ng4,Bxb6,cxb6,c3,bxc3,bxc3,Ne5,Nb2,c5,Qe2,Qd8,f4,Nc6,Rad1,Na5,Qc2,Nc6,Re3,a5,Na4,Rb8,d4,cxd4,cxd4,Nxd4,Qb2', 'Nf3+,Rxf3,Qxd1+', 'https://lichess.org/training/73XhV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('744Zf', 'Rapid', 'rissim', 1749, 'j_mtn', 1607, 'e4,e5,Nf3,d6,Bc4,Qe7,d3,Bg4,Bg5,Nf6,Nbd2,h6,Bh4,g5,Bg3,Nc6,h3,Bxf3,Nxf3,g4,hxg4,Nxg4,Bh4,Nf6,O-O,O-O-O,d4,Kb8,d5,Na5,Bd3,c6,Qd2,b6,Ba6,c5,Rab1,Nxe4,Bxe7,Nxd2,Bxd8,Nxf1,Kxf1,Bg7,b4,cxb4,Rxb4,Rxd8,Nh4,Nb7,Nf5,Bf8,Bxb7,Kxb7,Rh4,Rc8,Nxh6,Rxc2,Nxf7,Rxa2,Rh8,Be7,Re8,Bh4,g3,Bf6,Nxd6+,Ka6,Nc8,b5,d6,b4,d7,b3', 'Re6+,Kb7,Rxf6', 'https://lichess.org/training/744Zf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('74der', 'Rapid', 'abcd0987', 1973, 'mootez_CM', 2068, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bc4,d5,Bb3,c6,O-O,Bd6,d3,Nc5,Re1+,Be6,Nd4,Qc7,h3,O-O,Nxe6,Nxe6,Nc3,Nd7,d4,Rfe8,Qg4,Kh8,Qf5,Nf6,Bg5,Nxd4,Qd3,Nxb3,axb3,Nd7,Kf1,f6,Be3,Ne5,Qf5,a6,h4,Rad8,Bd4,Qf7,h5,c5,Bxe5,Rxe5,Rxe5,Bxe5,Na4,Qc7,Re1,c4,h6,gxh6,f4,Bxf4', 'Qxf6+,Kg8,Re7,Qxe7,Qxe7', 'https://lichess.org/training/74der');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('74fGL', 'Rapid', 'drchandrika', 1705, 'katojama', 1768, 'Nf3,d5,d4,c5,dxc5,e6,b4,a5,Bd2,axb4,Bxb4,Nc6,c3,Nxb4,cxb4,b6,Qd4,bxc5,bxc5,Nf6,Nc3,Qa5,e3,Bxc5,Bb5+,Bd7', 'Qxc5,Bxb5,Qxb5+,Qxb5,Nxb5', 'https://lichess.org/training/74fGL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('74hx5', 'Classical', 'kilovictor', 1635, 'ConanTheBarbarian', 1683, 'e4,d6,Bc4,c6,a3,d5,exd5,cxd5,Ba2,Nf6,Nf3,Nc6,h3,e5,d3,Bd6,Nc3,Be6,Bg5,h6,Bxf6,Qxf6,Nxd5,Bxd5,Bxd5,O-O,Ba2,Rfe8,O-O,e4,dxe4,Rxe4,c3,Rae8,Qa4,g5,Qb5,h5,Qxb7,g4,Nd2,R4e7,Qxc6', 'Bh2+,Kxh2,Qxc6', 'https://lichess.org/training/74hx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('74L9G', 'Classical', 'Brantron', 1705, 'Play_4048_Hz', 1741, 'd4,d5,c4,dxc4,e4,Nc6,Bxc4,Qxd4,Qe2,Ne5,Nf3,Qxc4,Nxe5,Qxe2+,Kxe2,f6,Nd3,Bd7,Bf4,e5,Be3,O-O-O,Nc3,Bc6,a3,Nh6,h3,Nf7,Rac1,Nd6,f3,Nc4,Rc2,Nxe3,Kxe3,g6,Rhc1,f5,Nxe5,Bc5+,Ke2,fxe4,fxe4,Rhe8,Nxc6,bxc6,Kf3,Rd3+,Ke2,Re3+,Kf1', 'Rf8+,Rf2,Rxf2+,Kxf2,Rxc3+', 'https://lichess.org/training/74L9G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('74owG', 'Blitz', 'Wym_01', 1667, 'chessmaster2850', 1635, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nf3,Qb6,Nc3,Bb4,a3,Be7,Be2,Nh6,Bxh6,gxh6,Na4,Qc7,O-O,Bd7,Nc5,Bxc5,dxc5,O-O-O,b4,h5,Nd4,Nxd4,Qxd4,Rdf8,Rac1,Kb8,b5,f6,c6,Be8,cxb7,Qxb7,exf6,Bg6,a4,Rc8,a5,Be4,b6,a6,f3,Bf5,Rxc8+,Rxc8,f7,Qxf7,Bxa6,Rd8,Qe5+,Ka8,Rc1,Qd7,Rc7,Qd6,Ra7+,Kb8,Rb7+,Ka8,Qxd6,Rxd6,Ra7+,Kb8,Rc7,d4,Bb5,d3,Rc6,Rxc6,Bxc6,d2,Kf2,d1=Q,a6,Qb3', 'a7+,Kc8,a8=Q#', 'https://lichess.org/training/74owG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('74pI7', 'Classical', 'VarunBalupur', 1865, 'Neev16', 1777, 'd4,e6,c4,d5,Nc3,dxc4,e4,Nc6,Nf3,Nf6,Bxc4,Bb4,d5,exd5,exd5,Bxc3+,bxc3,Ne7,Bb5+,Bd7,Bxd7+,Qxd7,c4,O-O,O-O,Rfd8,Bg5,Qf5,Bxf6,Qxf6,Qb3,b6,Rfe1,Ng6,Re3', 'Qxa1+,Re1,Qf6', 'https://lichess.org/training/74pI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('74pPQ', 'Rapid', 'SG53', 1783, 'elprinceosama64', 1805, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,h3,Be7,a3,O-O,Nc3,Bd7,Bg5,h6,Bh4,a6,Ba4,b5,Bb3,Be6,Bxf6,Bxf6,Bd5,Bxd5,Nxd5,Nb8,O-O,c6,Nxf6+,Qxf6,c3,Nd7,Nh2,Qg6,Qg4,Qe6,f4,f5,exf5,Qxf5,fxe5,Qxg4,Nxg4,Nxe5,Nxe5,dxe5,Rae1,Rae8,Rxf8+,Kxf8,Kf2,Kf7,Ke3,Ke6,Rf1,g5,Ke4,c5,Rf5,Kd6,Rf6+,Re6,Rxe6+,Kxe6,g4,a5,b3,a4,b4,cxb4,cxb4,Kd6,Kf5', 'Kd5,Kg6,Kd4', 'https://lichess.org/training/74pPQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('74Tif', 'Rapid', 'PeeonDama', 2061, 'MaiconOliv', 1978, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,c3,Nf6,Be3,Bxe3,fxe3,d6,h3,Qe7,Nbd2,Bd7,Qc2,a6,Bd5,Nd8,d4,O-O,O-O,c6,Bb3,Re8,Rae1,Be6,Bxe6,Qxe6,b3,Rc8,Nh4,Kh8,Nf5,b5,c4,Rg8,Qd3,Nb7,d5,cxd5,exd5,Qd7,Kh2,Nc5,Qc2,Qd8,Re2,e4,Qc3,Kh7,g4,bxc4,bxc4,Qf8,Nb3,Ncd7,Qd4,Ne5,Nd2,Rc5,Nxe4,Rxc4,Nxf6+,gxf6,Qb2,Rg6,Nh4,Nxg4+,hxg4,Rgxg4,Ng2,Qg7,Qxf6,Qxf6,Rxf6,Kg7,Rf4,Rgxf4,Nxf4,Ra4,Kg3,Ra5,Kf3,f5,e4,Ra3+,Re3,fxe4+,Kxe4,Rxa2,Ne6+,Kh7,Rg3,Ra4+,Kf5,Ra5,Rg7+,Kh8,Rg6,Rxd5+', 'Kf6,Rd1,Rxh6+,Kg8,Rg6+', 'https://lichess.org/training/74Tif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('75C0x', 'Rapid', 'Abonuhi', 1648, 'eggnox', 1672, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Bb5+,Bd7,Bxd7+,Qxd7,Nf3,Nf6,Nc3,Nc6,O-O,Be7,Bf4,O-O,Qd2,Rad8,Rad1,Qe6,Qe2,d5,Ng5,Qg4,Qxg4,Nxg4,f3,Nf6,e5,Nh5,Bc1,d4,Nce4,Nxe5,f4,Nc4,b3,Ne3,Bxe3,dxe3,Rxd8,Rxd8,g3,f5,Nc3,Rd2,Re1,c4,Rxe3', 'Bc5,Kf1,Bxe3', 'https://lichess.org/training/75C0x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('75cKV', 'Rapid', 'jun80', 1773, 'wisharchi', 1757, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,Nxe4,d4,Nd6,Bxf7+,Nxf7,dxc5,O-O,Qd5,h6,Na3,b6,Nc4,Bb7,Qd3,bxc5,Bxh6,Nxh6,Qd5+,Nf7,Ncxe5,Nxe5,Qxb7,Nxf3+,Qxf3,Ne5,Qd5+,Nf7,Rfe1,Qf6,Re3,c6,Qxc5,d6,Qxc6,Ne5,Qd5+,Rf7', 'Qxa8+,Rf8,Qd5+', 'https://lichess.org/training/75cKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('75Fg9', 'Rapid', 'KoshejGorynych', 1915, 'mekhami', 1987, 'd4,Nf6,Nf3,c5,a3,cxd4,Qxd4,Nc6,Qd1,g6,h3,Bg7,Nc3,b6,Bf4,Bb7,e3,O-O,Be2,d5,Nb5,Rc8,O-O,Ne4,Nbd4,Nxd4,exd4,e6,c3,g5,Bh2,f5,Bd3,f4,Re1,h5,Ne5,Rf5,Qxh5,Bxe5,dxe5,Qc7,f3', 'Qc5+,Kh1,Nf2+', 'https://lichess.org/training/75Fg9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('75hxw', 'Rapid', 'edjord24', 1708, 'ApolloNimrod', 1908, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bb4,d3,d6,h3,Bd7,Bxc6,Bxc6,Bd2,O-O,O-O,a5,a3,Bc5,Re1,Re8,Be3,Bxe3,Rxe3,b5,d4,b4,axb4,axb4,Rxa8,Qxa8,Nd5,Bxd5,exd5,Nxd5,Re1,e4,Nd2,f5,Nb3,Qa2,Qc1,g6,Nd2,c5,dxc5,dxc5,Nf1,f4,Rd1,g5,Qd2,e3,Qxd5+', 'Qxd5,Rxd5,e2', 'https://lichess.org/training/75hxw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('75LLq', 'Blitz', 'daz0319', 2037, 'bkdlrb', 2084, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bd3,Qc7,O-O,Nf6,Bg5,Bg4,c3,e6,Nbd2,Bd6,Re1,O-O,Qc2,h6,Bh4,Rac8,a3,Nh5,Bg3,Nf4,Bxf4,Bxf4,h3,Bxf3,Nxf3,Bd6,Qe2,Qe7,Ne5,Nxe5,dxe5,Bc5,Kh1,Qh4,Rf1,Rc6,f4,Qg3,Rf3,Qh4,Raf1,Kh8,f5,exf5,Rxf5,Qe7,Qf3,Re6,Qxd5,Rd8,Qf3,Rxe5,Rxf7,Qe8,Bg6,Qe6,Bh5,Re3,Qxb7', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/75LLq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('75Qxb', 'Rapid', 'andrearoccia', 2089, 'JudahH', 2191, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,Nf3,d5,cxd5,exd5,e3,Re8,Bd3,c5,dxc5,d4,Nb1,Bxc5,O-O,dxe3,Bxe3,Bxe3,fxe3,Qb6,Qc2,Qxe3+,Kh1,Qh6,Nbd2,Nc6,Rae1,Be6,Ne4,Ng4,Neg5,Nd4,Qb1,f6,Nh3,Nxf3,Rxf3,Ne5,Rg3,Rad8,Bc2,Rd2,Rf1,Rc8,Be4,Rc4,Bf3,Rcc2,Qe1,Rxb2,Qe4,Bd5,Qa4,b5,Bxd5+,Rxd5,Qxa7,Rbd2,Qb8+,Rd8,Qxb5,Rxa2', 'Qb3+,Kh8,Qxa2', 'https://lichess.org/training/75Qxb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('75RTG', 'Blitz', 'Retrovertigo', 2006, 'gufa', 2107, 'Nf3,e6,b3,Nf6,Bb2,Be7,c4,O-O,Nc3,d5,d4,c5,e3,Nc6,cxd5,Nxd5,dxc5,Qa5,Qd2,Rd8,Nd4,Bd7,Nxd5,Qxd2+,Kxd2,exd5,Nxc6,Bxc6,b4,a5,a3,axb4,axb4,Rxa1,Bxa1,Ra8,Bd3', 'Ra2+,Bc2,Ba4,Rc1,Bxc2,Rxc2,Rxa1', 'https://lichess.org/training/75RTG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('75Sof', 'Blitz', 'Spiloooo', 1770, 'Kraatz', 1756, 'd4,Nf6,c4,g6,Bg5,h6,Bh4,Bg7,Nc3,d6,f3,O-O,Bf2,e5,d5,a5,e4,Na6,a3,Nh5,Bd3,f5,exf5,Bxf5,Nge2,Qg5,Bxf5,Rxf5,O-O,Rxf3,Ne4,Qg4,N2g3,Nxg3,gxf3', 'Ne2+,Kh1,Qxf3#', 'https://lichess.org/training/75Sof');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('75VKx', 'Rapid', 'hover', 1738, 'CRNI75', 1709, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Be7,d3,Nf6,b3,O-O,Bb2,a6,Bxc6,bxc6,Re1,Bg4,h3,Bh5,g4,Bg6,Nbd2,h5,g5,Nh7,h4,f6,gxf6,Bxf6,d4,Bxh4,Nxh4,Qxh4,Nf3,Qg4+,Kf1,h4,Nh2,Qh3+,Kg1,Ng5,dxe5,Nf3+,Nxf3,Rxf3,exd6,cxd6,Qxd6,Raf8,Qxg6,R8f7,Bd4,Qd7,Rad1,Qc8,e5,h3,e6,Re7,Bc5,Re8,Qf7+', 'Rxf7,exf7+,Kxf7', 'https://lichess.org/training/75VKx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('75xVg', 'Rapid', 'vicky1606', 1909, 'reti225', 1990, 'd4,Nf6,c3,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,h3,Ngxe5,Nxe5,Nxe5,Be2,d5,Nd2,O-O,O-O,c6,a4,Qg5,Kh1,Re8,f4,Qg3,fxe5,Bxh3,Bf3,Bxe3,Qe1,Qxe1,Rxe1,Bxd2,Bxd2,Bf5,Bf4,Re6,Bh2,Rae8,b4,f6,Bh5,g6,Bf3,fxe5,b5,h5,bxc6,bxc6,Ra2,Kf7,Rb2,d4,cxd4,exd4,Rb7+,Kf6,Rxe6+,Rxe6,Bg3,d3,Rxa7,d2,Rd7', 'Re1+,Kh2,Bxd7', 'https://lichess.org/training/75xVg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('75z9m', 'Blitz', 'Thedarksquareknight', 1674, 'Omcar22', 1696, 'e4,e5,Nc3,Nf6,Bc4,Bb4,a3,Bc5,b4,Bd4,Bb2,Nc6,Nge2,a5,Nxd4,Nxd4,Ne2,axb4,Nxd4,bxa3,Rxa3,Rxa3,Bxa3,exd4,O-O,d6,e5,dxe5,Re1,e4,d3,Bf5,dxe4,Bg4,f3,Bh5,Qb1,b6,Qb5+,Qd7,Bxf7+,Bxf7,Qa6,Be6,e5,Nd5,c4,Nc3,Qa8+,Qd8,Qc6+,Qd7,Qa8+,Qd8,Qc6+,Kf7,Bb4,Re8,Bxc3,dxc3,Rc1,Qd4+,Kh1,Qd7,Qe4,Kg8,h3,Qd2,Qc6,Qxc1+,Kh2,Rf8,Qxe6+,Kh8,Qe7,Rg8,Qf7,Qd2,e6,c2,e7,c1=Q', 'Qxg8+,Kxg8,e8=Q#', 'https://lichess.org/training/75z9m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('761Ao', 'Blitz', 'cavallinozoppo', 2087, 'Rotete', 2150, 'e4,d6,d4,g6,Nc3,Bg7,f4,Nf6,Nf3,c5,d5,Qa5,Bd2,a6,a4,Qc7,Be2,Nbd7,O-O,O-O,Kh1,Re8,f5,Ng4,fxg6,hxg6,Ng5,Nge5,Bf4,Rb8,Qd2,c4,Nf3,b5,axb5,axb5,Bh6,Bh8,Rae1,b4,Nd1,c3,Qg5,Bf6,Qf4,Nxf3,Rxf3,cxb2,Nxb2,Qxc2,Nd3,b3,e5,dxe5,Qe4,b2,Rg3,Kh7,Bh5,Nc5,Bxg6+,Kh8,Bg7+,Bxg7,Qh4+,Kg8,Qh7+,Kf8,Bxf7,Bg4,Qxg7+,Kxg7,Rxg4+,Kxf7', 'Rf1+,Qf2,Rxf2#', 'https://lichess.org/training/761Ao');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('76ezP', 'Rapid', 'DamianZarczynski', 1914, 'Bin1611', 2071, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Nxe4,Re1,d5,d3,Nf6,Nxe5,Nxe5,Rxe5+,Be7,Qe2,Be6,Nc3,O-O,Bg5,c6,Re1,Qc8,Nb1,h6,Bh4,Re8,Nd2,Ng4,Rh5,Bxh4,Rxh4,Qd7,h3,Nf6,Qf3,Kh7,d4,Ne4,Nxe4,dxe4,Qxe4+', 'Bf5,Qxe8,Rxe8', 'https://lichess.org/training/76ezP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('76fkl', 'Rapid', 'docofthree', 1866, 'syrus555', 1909, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,d5,exd5,exd5,Bb3,Be7,d4,c4,Bc2,Nf6,O-O,O-O,b3,b5,a4,b4,bxc4,dxc4,d5,Na5,cxb4,Bxb4,Bg5,Qxd5,Bxf6,Qxd1,Rxd1,gxf6,Be4,Rb8,Nbd2,c3,Nf1,Bg4,Ne3,f5,Nxf5,Bxf5,Bxf5,Nc4,Rd4,Nd2,Nxd2,cxd2,h3,Bc3,Rxd2,Bxa1,Rd7,Be5,Rxa7,Rb2,Re7,f6,Bxh7+,Kh8,Bf5,Rfb8,g3,Bd4,g4,Bxf2+,Kf1,Bh4,Rh7+,Kg8,Rxh4,Ra2', 'Be6+,Kg7,Bxa2', 'https://lichess.org/training/76fkl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('76hfs', 'Rapid', 'Hk11', 1811, 'KAYEKABOL', 1919, 'e4,c5,d4,cxd4,Nf3,Nc6,Bb5,Qa5+,c3,Qxb5,Nxd4,Nxd4,Qxd4,e5,Qe3,Nf6,Na3,Qc6,Bd2,Bc5,Qg3,g6,O-O-O,Nxe4', 'Qxe5+,Kd8,Qxh8+', 'https://lichess.org/training/76hfs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('76hJt', 'Blitz', 'Cesmaster', 2421, 'FM AlvinM', 2401, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,Ne5,Nbd7,Nxg6,hxg6,Be2,e6,O-O,Bd6,c4,Qc7,Be3,Bf4,Qd2,Bxe3,fxe3,c5,b4,cxd4,exd4,O-O,Rac1,Rfd8,Bf3,Rac8,Rfd1,Nb6,c5,Nbd5,Bxd5,Nxd5,Ne4,Qf4,Nd6', 'Qxd2,Rxd2,Rxd6', 'https://lichess.org/training/76hJt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('76Icg', 'Rapid', 'Ajesvi', 1784, 'pankajjayshwal', 1767, 'd4,a5,Bf4,d6,Nf3,Nc6,e3,Nf6,Nbd2,Bg4,Be2,h5,Nh4,Bxe2,Qxe2,Nd5,Bg3,f6,h3,g5,Nhf3,h4,Bh2,e5,dxe5,dxe5,O-O-O,Bd6,Ne4,Ndb4,Kb1,O-O,Nfxg5,fxg5,Qh5,Qe7,Nxg5,Rf5', 'Qg6+,Qg7,Qxf5', 'https://lichess.org/training/76Icg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('76IFC', 'Blitz', 'MNiziol', 2170, 'evaristgalois1', 2211, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,O-O,Nxe4,Bxf7+,Kxf7,Nc3,dxc3,Qd5+,Ke8,Re1,Ne7,Rxe4,d6,Ng5,Qd7', 'Qf7+,Kd8,Ne6+,Qxe6,Rxe6,Bxe6,Qxe6', 'https://lichess.org/training/76IFC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('76ixA', 'Blitz', 'GM AndreyBelozerov', 2505, 'arseniy_2004', 2458, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,Bd7,Bb3,Rb8,h4,h5,O-O-O,b5,Nxc6,Bxc6,g4,a5,gxh5,Nxh5,Bd4,a4,Bd5,Qd7,Bxg7,Kxg7,Bxc6,Qxc6,Nd5,e6,Qd4+,e5,Qb4,Qc5,Rh2,Rbc8,Rhd2,Qxb4,Nxb4,f5,Rxd6,fxe4,fxe4,Rf4,Rg1,Nf6,Nd5,Rf2,c3,Nxe4,Rdxg6+,Kf7,Rg7+,Ke6,Nc7+,Kd6,Nxb5+,Kc5,Na3,Rd8,R7g2,Rf4,Rd1,Rxd1+,Kxd1,Rxh4,Kc2,Rh1,Re2,Rh4,Nb1,Kd5,b3,axb3+,axb3,Rh3,b4,Nd6,Nd2,e4,Kb3,Nb5,Nxe4', 'Nd4+,Ka3,Nxe2', 'https://lichess.org/training/76ixA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('76vTm', 'Rapid', 'dhel0516', 1917, 'HODGE2003', 1763, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,Bxf7+,Kxf7,Ne5+,Ke7,Qxg4,d6,Qg5+,Ke8', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/76vTm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('76XTM', 'Rapid', 'juananbertos', 1819, 'guibet86', 2057, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Nb3,c5,c3,Nc6,Nf3,Be7,Be2,f6,exf6,Nxf6,Nxc5,O-O,Nd3,Bd6,Bg5,h6,Bh4,a6,a3,b5,b4,Bd7,O-O,Be8,Bg3,Be7,Nfe5,Ne4,Qc2,Rc8,Nxc6,Rxc6,Ne5,Rxc3,Qb2,Rc8,Bd3,Nd6,Ng6,Nc4,Bxc4,bxc4,Nxf8,Kxf8,Qc2,Kg8,f4,Qb6,Bf2,Bf6,Rad1,Bb5,Qc3,Qd6,Be3,Ba4,Rde1,Ra8,g3,Qb6,g4,a5,f5,axb4,axb4,exf5,Rxf5,Bc6,Bxh6', 'Bxd4+,Be3,Bxc3,Bxb6,Bxe1', 'https://lichess.org/training/76XTM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('773LA', 'Rapid', 'coolkid-75', 1716, 'Woodman', 1606, 'd4,d5,c4,Nf6,Nf3,c5,Bg5,e6,Nc3,Be7,e3,Qa5,Bd3,O-O,O-O,Qc7,Qa4,a6,Bf4,Bd6,Bxd6,Qxd6,h3,Nc6,Qa3,Nd7,Be2,e5,dxe5,Ndxe5,cxd5,Nb4,Rad1,Bd7,Qb3,a5,a3,a4,Nb5,Bxb5,Qc3,Bxe2,Nxe5,Bxf1,Rxf1,Na2,Qc4,Qxe5,Qxa2,Rac8,Qc4,Rfd8,Rd1,Qxb2,Qxa4,c4,d6,c3,d7,Rc7', 'Qa8,h5,Qxd8+', 'https://lichess.org/training/773LA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('773ov', 'Rapid', 'kaanyildirim515', 1667, 'RodMex', 1747, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,O-O,c6,d3,a5,a4,Be7,Qf3,d5,exd5,cxd5,Bxd5,Nf6,Bxb7,Bxb7,Qxb7,Rb8,Qc6+,Qd7,Qxd7+,Nxd7,Bf4,Rxb2,Rc1,O-O,Nd2,Nb6,Bc7,Bb4,Nb3,Nd5,Nxd4,Nxc7,Nc6,Bc3,Rab1,Rxb1,Rxb1,Nd5,Rb5,Nc7', 'Ne7+,Kh8,Rc5,Na8,Rxc3', 'https://lichess.org/training/773ov');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('77By8', 'Rapid', 'Ashraf_Elkhoy', 1806, 'gracee1', 1785, 'e4,e6,Nf3,c5,Nc3,Nc6,d4,cxd4,Nxd4,Nf6,Bd3,d6,Be3,Be7,O-O,Ne5,Be2,O-O,f4,Ng6,Bd3,e5,fxe5,dxe5,Nf3,Ng4,Bc1,Qb6+,Kh1,Nf2+,Rxf2,Qxf2,Nd5,Bd6', 'Be3,Qxe3,Nxe3', 'https://lichess.org/training/77By8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('77JTl', 'Rapid', 'k170', 1747, 'Impear', 1746, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nc3,c5,Nf3,Nc6,e4,Nxc3,bxc3,cxd4,cxd4,e6,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/77JTl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('77LZT', 'Rapid', 'mutazmustafa', 1759, 'tarekezzat', 1782, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Be2,Nbd7,Qd2,e5,dxe5,dxe5,Bg5,O-O,O-O-O,Qe7,Nd5,Qc5,Be3,Qd6,Nxf6+,Qxf6,h4,Rd8,Bg5,Qxf2,Bxd8,Qxg2,Nf3,Nc5,Rhg1,Qf2,Rgf1,Qg2,Bxc7,Nxe4,Qd8+,Bf8,Nxe5,Qxe2,Qxf8+,Kxf8', 'Rxf7+,Kg8,Rd8#', 'https://lichess.org/training/77LZT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('77NFt', 'Blitz', 'luizfernandoalves', 1824, 'Cepera1', 1720, 'd4,a5,c4,e5,dxe5,d6,exd6,Bxd6,Nf3,Bd7,g3,Nc6,Bg2,f6,O-O,Nh6,Bxh6,gxh6,Qc1,Qe7,Qxh6,O-O-O,Nc3,Kb8,Nd5,Qf7,Qxf6,Rhf8,Qxf7,Rxf7,a3,Ne5,b3,h5,Ng5,Rg7,Ne4,h4,Nxd6,cxd6,b4,h3,Bf3,Nxf3+,exf3,Bc6,Rfd1,Rf7,f4,Re8,Nb6,Re4,Rxd6,Rfe7,Kf1', 'Re1+,Rxe1,Bg2+,Kg1,Rxe1#', 'https://lichess.org/training/77NFt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('77o1B', 'Rapid', 'limax', 2023, 'igor051158', 2172, 'd4,Nf6,Bf4,d6,Nc3,g6,Nf3,Bg7,e4,Nh5,Bg5,h6,Be3,O-O,Qd2,Kh7,Bd3,Nf6,h3,Nc6,O-O-O,a6,g4,Ng8,Rdg1,b5,Nd5,e6,Nf4,e5,dxe5,Nxe5,Nxe5,Bxe5,Ne2,c5,c4,Be6,f4,Bg7,f5,Bxc4,g5,Be5,gxh6,Rb8,fxg6+,fxg6,Bxc4,bxc4,Nc3,Qf6,Na4,Rb4,Nc3,Rfb8,Rf1,Bxc3,Qxc3,Qxc3+,bxc3', 'Rb1+,Kd2,R8b2#', 'https://lichess.org/training/77o1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('77T0g', 'Rapid', 'h6HuXu', 1817, 'satranco', 1807, 'd4,Nf6,Bf4,g6,Nc3,Bg7,Qd2,O-O,Bh6,Bxh6,Qxh6,d6,O-O-O,Nbd7,h4,Ng4,Qf4,Ndf6,f3,Nf2,Rh2,Nxd1,Kxd1,Nh5,Qg5,f6,Qh6,Ng3,Ke1,e5,d5,Qd7,Kf2,Nxf1,Kxf1,Qg7,Qd2,a6,Nh3,Bxh3,Rxh3,b5,a3,f5,Qg5,Qf6,Qd2,Rae8,Kg1,e4,f4,Qe7,e3,Rb8,Ne2,Qf6,Nd4,Rfe8,c3,a5,Ne6,Rxe6,dxe6,Qxe6,Rg3,Kg7,h5,Qf6,hxg6,hxg6,Qe2,c6,Qh5,Rh8,Qd1,Qh4,Kf2,Qe7,Qd4+,Qf6,Qa7+,Qf7,Qxa5,Re8,Qb6,Rc8,Qd4+,Qf6,Qd1,d5,Qh1,Rh8,Rh3,Rxh3,Qxh3,Qd6,g4,fxg4,Qxg4,Qf6,Qg5,Qxg5,fxg5,Kf7,Kg3,Ke6,Kf4,c5,b3,c4,b4,Ke7', 'Ke5,d4,Kxd4', 'https://lichess.org/training/77T0g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('77Tku', 'Blitz', 'Andriy67', 1825, 'Shaquille_M', 2172, 'd4,g6,c4,Bg7,Nc3,c5,d5,e5,e4,d6,Nf3,f5,exf5,Bxf5,Bd3,Nf6,O-O,O-O,Bxf5,gxf5,Bg5,h6,Bh4,a6,Qd2,Qe8,Rfe1,Qh5,Bxf6,Rxf6,Ne2,e4,Ng3,Qg6,Nh4,Qf7,f3,exf3,Nxf3,Nd7,Re2,f4,Ne4,Rg6,Rae1,Ne5,Nxe5,Bxe5,Rf2,Rf8,Nxc5,Kh7,Ne6,Rfg8,Nxf4,Bxf4,Rxf4,Rxg2+,Kh1,Qg7,Qd3+,Kh8,Rff1', 'Rxh2+,Kxh2,Qg2#', 'https://lichess.org/training/77Tku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('77UN1', 'Rapid', 'Ampatzidis_k', 1656, 'vidaurre', 1681, 'e4,e5,Nf3,Qf6,Nc3,c6,d3,Bb4,Bg5,Qg6,Qd2,h6,Nxe5,Qxg5,Nxf7,Qxd2+,Kxd2,Kxf7,a3,Bxc3+,Kxc3,Nf6,e5,Nd5+,Kd4,Na6,c4,Nf4,g3,Ne6+,Kc3,Rd8,d4,d5,cxd5,cxd5,Bxa6,bxa6,Rac1,Bd7,Kd3,Bb5+,Ke3,a5,f4,a4,f5,Ng5,Rc7+,Kg8,e6,Rac8,Rxa7,Rc2,Ra5,Rxb2,g4,Rb3+,Kf4,Rf3+,Ke5,Re3+,Kf4,Re4+,Kg3,Bc4,Rxa4,Rxd4,Re1,Ne4+,Kh4,g5+,Kh5,Kg7,Ra7+,Kf6,Rf7+,Ke5,e7,Ra8', 'Rf8', 'https://lichess.org/training/77UN1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('77v9b', 'Rapid', 'aprendis123', 1754, 'praneethhnk', 1760, 'e4,g6,d4,Bg7,Nf3,e6,Be3,b6,Qd2,Bb7,Nc3,d5,Bd3,Ne7,e5,Nd7,Bh6,O-O,Bxg7,Kxg7,h4,c5,Nb5,c4,Be2,Nf5,h5,a6,Nd6,Nxd6,exd6,Nf6,hxg6,fxg6,O-O-O,Qxd6,Qh6+,Kg8,Ne5,Qe7,Rh3,Qg7,Qg5,Ne4,Qg4,Nxf2', 'Qxe6+,Kh8,Nxg6+,Qxg6,Qxg6', 'https://lichess.org/training/77v9b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('77W8D', 'Rapid', 'zPedr0y', 1790, 'Vahagm', 1724, 'e4,e5,d4,Nc6,d5,d6,dxc6,bxc6,Nc3,Bb7,Nf3,Nf6,Bd3,Be7,O-O,O-O,Be3,c5,Ne2,c6,c4,Qa5,Nd2,Rab8,b3,Qa3,f4,Bc8,h3,a5,Ng3,a4,fxe5,dxe5,Qf3,axb3,axb3,Qb2,Ra7,Qc3,Be2,Bd6,Bg5,Qxf3,Nxf3,Rxb3,Bxf6,gxf6,Nh5,Re3,Nxf6+,Kg7,Kf2,Rxe2+,Kxe2,Kxf6,Nd4+,Kg7,Nxc6,Be6,Rd1,Bxc4+,Ke3,Bb8,Nxb8,Rxb8,Rdd7,Rb3+,Kf2,Rb2+,Kg3,Rb3+,Kg4,Be6+,Kg5,Rg3+,Kh4,Rxg2,Rdc7,Rh2,Ra3,Re2,Rxc5,Rxe4+,Kg3,Re1,h4,Rh1,Rxe5', 'Rh3+,Kf4,Rxa3', 'https://lichess.org/training/77W8D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7860F', 'Rapid', 'peeeyman', 1931, 'elie21000', 1744, 'c4,Nf6,Nc3,e6,g3,d5,cxd5,Nxd5,Bg2,Nxc3,bxc3,c6,Nf3,Bc5,d4,Bb6,a4,Nd7,a5,Bxa5,Bb2,O-O,O-O,Nf6,Ba3,Re8,Qc2,Bb6,e4,Qc7,e5,Nd5,Ng5,g6,Bc1,c5,Ne4,cxd4,Nf6+,Nxf6,exf6,dxc3,Qa4,Bd7,Qh4,Bc5,Qh6,Bf8,Qh4,Bc6,Bxc6,Qxc6,Bh6,Qd6,Rad1,Qc5,Qf4,Bxh6,Qxh6,Qf8,Qh4,a5,Qg4,b5,h4,b4,h5,Kh8,hxg6,fxg6,Qd4,Kg8,Kg2,a4,Rh1,c2,Rc1,b3,Rxh7,Kxh7,f7,Qxf7', 'Rh1+,Kg8,Qh8#', 'https://lichess.org/training/7860F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('789YW', 'Rapid', 'StaleMateIn3', 1658, 'Zoykas', 1711, 'c4,g6,d4,Bg7,Nf3,d6,e3,Bg4,Nc3,Nf6,h3,Bxf3,Qxf3,Nc6,d5,Ne5,Qd1,O-O,f4,Ned7,Bd3,Nc5,Bc2,a5,O-O,Nh5,Rf3,c6,f5,Bxc3,bxc3,Nf6,fxg6,fxg6,Rb1,Nfe4,Bxe4,Nxe4,Rxb7,c5,Qe1,Rb8,Ra7,Rb1,Kh2,Rxf3,gxf3,Ng5,Qg3,Nxf3+,Qxf3,Rxc1,Qe4,Rxc3,Rxe7,Qb6,Qe6+,Kh8,Re8+,Kg7,Re7+,Kh6,Qf6', 'Qb2+,Kg3,Rxe3+,Rxe3,Qxf6', 'https://lichess.org/training/789YW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('78Aem', 'Blitz', 'merodeador7', 1749, 'YourFavouritePizza', 1785, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,d5,exd5,exd5,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Be2,Bc5,Bf3,O-O,b3,Re8+,Be2,Bb4,Bd2,Bg4,h3,Bxc3,hxg4,Bxa1,Qxa1,Qe7,Qd1,Nxg4,Bc3,Rad8,Qd3,d4', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/78Aem');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('78AVv', 'Rapid', 'drreal33', 1957, 'polibandi', 1969, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nd2,Qb6,Qb3,c4,Qxb6,axb6,Be2,Bf5,f3,h5,Kf2,e6,e4,dxe4,Nxc4,Nd5,Bd2,b5,Ne3,b4,Nxf5,exf5,c4,Nf6,Be3,f4,Bxf4,Nxd4,Nh3,Nc2,Rac1,Bc5+,Kf1,Ne3+,Bxe3,Bxe3,Ra1,Ke7,Nf2,exf3,Bxf3,Rad8', 'Re1,Kf8,Rxe3', 'https://lichess.org/training/78AVv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('78GAO', 'Rapid', 'ADISHESH_BALAJI', 1818, 'karel_chajim', 1833, 'e4,c5,Nf3,a6,d4,d5,exd5,Qxd5,Nc3,Qh5,Bf4,Nc6,d5,Nd4,Nxd4,Qxd1+,Kxd1,cxd4,Ne2,Nf6,Nxd4,Nxd5,Bg3,Bg4+,f3,Bh5,Bc4,O-O-O,Ke2', 'Nf4+,Bxf4,Rxd4,Bb3,Rxf4', 'https://lichess.org/training/78GAO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('78KRo', 'Rapid', 'Yoni123', 1905, 'december82002', 1847, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,Nf3,Bb4,Bd2,Nge7,a3,Ba5,O-O,O-O,b4,Bb6,Ne2,d5,exd5,Nxd5,b5,Nce7,Qc2,Bd7,Nc3,Rc8,Bd3,Nf6,Qb3,Qc7,Rac1,Qd8,a4,a6,bxa6,bxa6,Ne5,Ba7,Bxa6,Rb8,Bb5', 'Bxb5,axb5,Qxd2', 'https://lichess.org/training/78KRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('78NAc', 'Rapid', 'eijul2', 2157, 'mythic_glorywinner', 1991, 'd4,d5,c4,c6,Nf3,e6,e3,Nf6,Nbd2,Nbd7,Bd3,Bd6,O-O,O-O,e4,e5,cxd5,cxd5,exd5,exd4,Nxd4,Nxd5,Nc4,Bc7,Bxh7+,Kxh7,Qh5+,Kg8,Qxd5,Nb6,Qxd8,Rxd8,Nxb6,Bxb6,Ne2,Bg4,Nc3,Rac8,h3,Be6,Bf4,a6,Rfd1,Rxd1+,Rxd1,Ba5,Be5,Bxc3,Bxc3,Bxa2,Rd7,b5,Rd6,Bc4,g4,Rb8,Bb4,Ra8,Ba5,f6,Kh2,Kf7,Kg3,Ke7,Rc6,Ra7,Rc7+,Rxc7,Bxc7,b4,Ba5,b3,Bc3,g6,h4,Ke6,Kf4,Bb5,h5,gxh5,gxh5,Kf7,h6,Kg6,h7,Kxh7,Bxf6,Kg6,Ke5,a5,Bd8,a4,Be7,Bc6,f4,Bd7,Bc5,Bf5,Bd6,Bc2,Kd4,Kf5,Kc3,Be4,Kb4,Bc6,Kc5', 'a3,bxa3,b2,Be5,b1=Q', 'https://lichess.org/training/78NAc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('78RBl', 'Blitz', 'crescenciosanjur24', 2033, 'CM nelsoncopa39', 1958, 'e4,d6,Nf3,Nf6,Nc3,e5,d4,Nbd7,dxe5,dxe5,Bb5,c6,Bd3,Bc5,O-O,O-O,Bg5,h6,Bh4,Qc7,Bg3,Re8,Bc4,b5,Be2,a5,Bd3,Bf8,a3,Rb8,Ne2,c5,c4,b4,axb4,axb4,b3,Nh5,Re1,Nxg3,Nxg3,g6,Bc2,Bg7,Qd2,Bb7,Qe3,Nf6,Ra7,Qb6,Rea1,Ra8,Rxa8,Rxa8,Rxa8+,Bxa8,Nxe5,Qa7,h3', 'Qa1+,Kh2,Qxe5', 'https://lichess.org/training/78RBl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('78XXz', 'Classical', 'Anarchoart', 1747, 'faeb187', 1747, 'd4,g6,e4,Bg7,Nf3,c5,Nc3,cxd4,Nxd4,Nc6,Be3,a6,a4,d6,Qd2,Nxd4,Bxd4,e5,Be3,Be6,b3,Ne7,Bg5,h6,Be3,Nc6,Rd1,Nd4,Nd5,Bxd5,exd5,Rc8,Bc4,O-O,c3,Nf5,O-O,Nxe3,Qxe3,f5,Rc1,f4,Qf3,Qf6,Bd3,Rc5,c4,Rfc8,Rfe1,b5,axb5,axb5,Qg4,bxc4,bxc4,g5,Bf5,R8c7,Be6+,Kf8,Qe2,Ke7,Qa2,h5,Rc3,g4,Rb1,e4,Ra3,Rxc4,Qxc4,Rxc4,Rb7+,Ke8,Ra8+,Qd8', 'Bf7+,Kf8,Rxd8#', 'https://lichess.org/training/78XXz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('78YEI', 'Blitz', 'serger1974', 1799, 'Cavad95', 1819, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,O-O,Nf3,d6,Be2,Nc6,O-O,e5,d5,Nd4,Nxd4,exd4,Qxd4,Nd7,Qd3,Nc5,Qd2,Qe7,Bf3,a5,Rb1,h5,a3,Bg4,Bxg4,hxg4,Qf4,Bxc3,bxc3,Qxe4,Qh6,Qxb1,Bg5,Qf5,f3,g3,hxg3,Nd3,g4,Qe5,f4,Qg7,Qh4,Rfe8,Bh6,Qh7,f5,Re4,fxg6,Qxg6,Bg5,Ne5,Rf6,Qh7,Rh6,Qg7,Bf6,Rxg4', 'Rh8+,Qxh8,Qxh8#', 'https://lichess.org/training/78YEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('791ia', 'Rapid', 'borapasa', 1988, 'Shillam', 1843, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,c3,Bd7,d4,exd4,cxd4,Bb6,e5,dxe5,Re1,Nge7,dxe5,O-O,Nc3,Bg4,Qe2,Nd4,Qd3,Nxf3+,gxf3,Qxd3,Bxd3,Bxf3,e6,fxe6,Rxe6,Rae8,Bc4,Kh8,Bg5,Ng6,Rxe8,Rxe8,Bd5,Bxd5,Nxd5,h6,Nxb6,hxg5,Nd5,c6,Ne3,Nf4,Rd1,Re7,Kf1,Kh7,Rd6,g6,a3,Kh6', 'Nf5+,Kh5,Nxe7', 'https://lichess.org/training/791ia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('792Xa', 'Classical', 'Ulmer_Weisswurst', 2254, 'eternity_chess', 2101, 'Nf3,f5,d4,e6,c4,Nf6,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,e3,O-O,Bd3,c5,O-O,Nc6,Ne2,g5,a3,Ba5,dxc5,Qxb2,Nfd4,Ne5,f4,Ng4,Nc2,Qg7,h3,Nf6,Ncd4,b6,c6,dxc6,Nxc6,Bb7,Nxa5,bxa5,Rb1,Rad8,Qc2,Ne4,Nd4,Rf6,c5,gxf4,c6,Bc8,exf4,Rxd4,Rb8,Rf8,Ra8,Qc7,Bxe4,Rxe4,Qc3,Kf7,Qc5,Qb6', 'Rxa7+,Qxa7,Qxa7+', 'https://lichess.org/training/792Xa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('796LN', 'Rapid', 'xdVictorSousa', 1840, 'gielsa', 1968, 'e4,e6,Nf3,d6,d4,g6,c4,Bg7,Nc3,Ne7,Bf4,h6,h4,Nd7,Bd3,b6,O-O,Bb7,e5,Nb8,Re1,Nbc6,d5,Nxe5,Nxe5,dxe5,Bxe5,Bxe5,Rxe5,Qd6,Qe2,O-O-O,dxe6', 'Qxd3,Qxd3,Rxd3', 'https://lichess.org/training/796LN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('796rK', 'Rapid', 'mangesh7', 1608, 'dreamer2', 1629, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,O-O,d3,d6,a3,h6,Be3,Bg4,Nbd2,Qe7,h3,Bh5,Qc2,Bxf3,Nxf3,a6,b4,Bxe3,fxe3,b5,Bb3,Qd7,Nh4,d5,Nf5,dxe4,dxe4,Ne7,Rad1,Qe8,Qf2,Rd8,Qg3,Rxd1', 'Qxg7#', 'https://lichess.org/training/796rK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('79amG', 'Rapid', 'Arap11', 1769, 'Tomtom73', 1831, 'd4,Nf6,Nf3,c5,c3,cxd4,cxd4,e6,Bf4,Be7,e3,Nd5,Bg3,O-O,Nc3,Nxc3,bxc3,Qa5,Qc2,b6,Bd3,h6,O-O,Bb7,Ne5,d6,Nc4,Qd5,e4,Qg5,Bxd6,Bxd6,Nxd6,Bc6,f4,Qe7,Nc4,Bd7,Ne5,Be8,Rab1,f6,Nc4,Nc6,Ne3,Rc8,Rf3', 'Nxd4,cxd4,Rxc2', 'https://lichess.org/training/79amG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('79BgU', 'Rapid', 'jni', 1971, 'Meysampoolaki', 1842, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,Qd3,O-O,Qxe4,Re8,Ne5,d6,Bxc6,bxc6,O-O,dxe5,dxe5,Rb8,Be3,a5,Rfd1,Qe7,Rac1,Qxe5', 'Qxe5,Rxe5,Rd8+', 'https://lichess.org/training/79BgU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('79hNg', 'Rapid', 'ymkm13', 2308, 'hanyabdo', 2373, 'e4,c5,Nc3,g6,f4,Bg7,Nf3,Nc6,Bb5,Nd4,O-O,a6,Bc4,e6,d3,Ne7,e5,d5,exd6,Qxd6,Ne4,Qc7,c3,Ndf5,Qe1,h5,Nfg5,O-O,Qe2,Nd6,Nxd6,Qxd6,Be3,b6,g4,hxg4,Qxg4,Nf5,Qh3,Bh6,d4,Kg7,dxc5,bxc5,Rad1,Qc6,Be2,Rb8,b3,Bxg5,fxg5,Rh8,Qf3,Qxf3,Rxf3,Bb7,Rxf5,exf5,Bxc5,Rhe8,Bd4+,Kg8,Rd3,Rbd8,Bf1,Re4,Rh3,Rdxd4,cxd4,Rxd4,Kf2,Rd2+,Be2,Rxa2,Re3,Bc6,Re7,Bb5,Kf3,Bxe2+,Rxe2,Ra3,Rb2,a5,Kf4,Kg7,h4,f6,Rb1,fxg5+,Kxg5,a4,bxa4,Rxa4,Rb7+,Kf8,Kxg6,f4,Kf6,f3', 'Rb8#', 'https://lichess.org/training/79hNg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('79Kkn', 'Rapid', 'sekharc', 1675, 'cloudwalker', 1633, 'd4,e6,e4,a6,c4,b5,Nf3,bxc4,Bxc4,c5,Nc3,Bb7,O-O,cxd4,Qxd4,Qa5,Be3,Nc6,Qd3,Bc5,Rad1,O-O-O,a3,Bxe3,Qxe3,Ne5,b4,Qc7,Bb3,Nxf3+,Qxf3,Nf6,Rc1,Kb8,b5,Qe5,bxa6,Bxa6,Rfe1,Rc8,Ba4,Rc5,Rb1+,Ka7,Qe3,Rc8,Bb5,Rc7,Bxa6,Kxa6,Qd3+,Ka7,Qe3,Ka8,Rb3,Rxc3,Rxc3,Rxc3,Qb6,Qb8', 'Qa5+,Qa7,Qxc3', 'https://lichess.org/training/79Kkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('79paD', 'Blitz', 'WikiplaysChess', 1646, 'Samuknet', 1725, 'e4,d6,d4,b6,Nc3,c5,Nf3,cxd4,Nxd4,Bb7,Bd3,e5,Nb3,Nf6,O-O,Be7,Bg5,O-O,Qd2,Nbd7,f4,exf4,Qxf4,Nc5,Nd2,Nxd3,cxd3,d5,exd5,Nxd5,Nxd5,Bxd5,Bxe7,Qxe7,Ne4,Rac8,Rae1,Bxe4,Rxe4,Qc5+,Kh1,Rc6,Re5,Qc2', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/79paD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('79Qdt', 'Rapid', 'Springer115', 1639, 'Lalngaiha_Ralte', 1630, 'e4,e6,d4,d5,exd5,Qxd5,Nf3,Qe4+,Be3,Nc6,Bd3,Qd5,c3,a6,Nbd2,Nf6,c4,Qd8,O-O,Be7,Re1,O-O,h3,Nb4,Bf1,c5,a3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Qc2,Qa5,b4,Qe5,Bc5,Qc7,Be3,Bb7,c5,Rfd8,Nc4,Nd5,Na5,Nxe3,Rxe3,Bf6,Rb1,Rd4,Bd3,g6,Re4,Rad8,Rxd4,Bxd4,Qe2,Rd5,Rf1,Ba8,Bxa6,Be5,Bc4,Bh2+,Kh1,Re5,Qd3,Rh5,Qb3,Be5,Be2,Rf5,Bf3,Bd4,Nc4,Qf4,Nd6', 'Be5,g3,Qxf3+,Qxf3,Rxf3', 'https://lichess.org/training/79Qdt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('79RyS', 'Blitz', 'nemorino', 2027, 'Jakob2000', 1890, 'd4,Nf6,c4,e6,Nf3,c5,g3,Nc6,Bg2,cxd4,Nxd4,Bc5,Nc2,O-O,O-O,d5,cxd5,exd5,Nc3,Be6,Nb5,Rc8,Nbd4,Qb6,e3,Rfd8,Nxe6,fxe6,b3,e5,Bb2,Rc7,Qe2,Rcd7,Rfd1,Kf7,Bh3,Rd6,Rac1,a5,g4,Ne4,Qf3+,Kg8,Rxd5,Ng5,Qg2,Nxh3+,Qxh3,Rxd5,Qg3,Nb4,Nxb4,Bxb4,Rf1,Qe6,a3,Bf8,Bc3,b6,b4,axb4,axb4,Rc8,Be1,Rb5,h3,Bxb4,h4,Bxe1,Rxe1,Rbc5,Kg2,Rc1,Re2,R8c2,Qf3,Rxe2,Qxe2,Rc5,Qa6,Qc6+,Kg3,b5,Qa2+,Kf8,Qd2,Rc4,Qd8+,Qe8,Qd6+,Qe7,Qb8+,Kf7,Qxb5,Qe6,Qb7+,Kg6,Qf3,e4', 'h5+,Kh6,Qf4+,g5,Qf8#', 'https://lichess.org/training/79RyS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('79VrC', 'Rapid', 'TCrown7', 1974, 'FRATT', 1971, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,e5,Nde2,Nf6,Ng3,Be7,Bb5,O-O,O-O,Nd4,Bc4,Bg4,f3,Bd7,Be3,b5,Bd5,Rb8,Bxd4,exd4,Qxd4,b4,Nce2,a5,c3,Bb5,Bc4,bxc3,Bxb5,cxb2,Qxb2,Qb6+,Nd4,d5,e5,Nd7,a4,Bc5,Rad1,Nxe5,Kh1,Nc4,Qc3,Nd6,Ndf5,d4,Nxd4,Bb4,Qc6,Nxb5,Qxb6,Rxb6,Nxb5,Rh6,Rd5,Rc6,Rfd1,g6,Ne4,Kg7,Kg1,Rc2,Kf1,Ra2,Nbc3,Rc2,Nb5,Rfc8,Rd7,Ra2,Ng5,Rcc2,Rxf7+,Kh6,Ne4,Rxg2,Nd4,Rxh2,Rf4', 'Rh1#', 'https://lichess.org/training/79VrC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('79WMR', 'Blitz', 'karplanca', 2165, 'SeunMay', 2167, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bg4,Ne5,Bd7,Qb3,Bc8,e3,e6,Be2,Qb6,O-O,Nbd7,f4,Be7,Qc2,dxc4,Bxc4,O-O,Bd3,Re8,Bd2,Nf8,Be1,Nd5,Qe2,f6,Nf3,c5,Bf2,cxd4,Nxd4,Bc5,Na4,Qa5,Nxc5,Qxc5,Rac1,Qb6,Bb1,Bd7,Qd2,Qb4,Qc2,Rac8,Qe2,e5,fxe5,Rxe5,Rxc8,Bxc8,Nf3,Re8,a3,Qa5,Ba2,Be6,b4,Qxa3,Bxd5,Bxd5,Nd4,Qxb4,Qg4,Be6,Qh4,Ng6,Qg3,Bc4,Re1,Bf7,h4,a5,h5,Ne5,Nf5,g6,hxg6,Bxg6,Nh4,Kf7,Rc1,Re7,Nxg6,hxg6,Qh3,Kg7,Rc8,Qb1+,Kh2,Qf5', 'Qh8+,Kf7,Qg8#', 'https://lichess.org/training/79WMR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('79xaH', 'Rapid', 'PAVELA', 1838, 'ararrat58', 1959, 'e4,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,d4,d6,Bc4,c6,cxd6,exd6,exd6,Qxd6,Nf3,Bg4,O-O,Be7,Nc3,Nb6,Be2,O-O,h3,Bh5,Be3,N8d7,Ne4,Qd5,Nc3,Qf5,g4,Bxg4,hxg4,Qxg4+,Kh1,Qh3+,Nh2', 'Bd6,f4,Qxe3', 'https://lichess.org/training/79xaH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7aa57', 'Rapid', 'Peshun', 1730, 'ItouKaiji', 1838, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d4,exd4,O-O,d6,Bg5,f6,Bh4,Bg4,h3,Bh5,a3,Ne5,Nbd2,Qd7', 'Nxe5,Bxd1,Nxd7', 'https://lichess.org/training/7aa57');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7aBpX', 'Rapid', 'Lorenzo-B', 1710, 'Schorsch1408', 1815, 'd4,Nf6,c4,c5,d5,e6,Nc3,g6,Bg5,Bg7,e4,O-O,e5,exd5,exf6,Re8+,Be2,Bxf6,Bxf6,Qxf6,Nxd5,Qxb2,Nc7,Qc3+,Kf1,Rxe2,Kxe2,Qxc4+,Qd3,Qg4+,Kf1,b6,Nxa8', 'Ba6,Qxa6,Nxa6', 'https://lichess.org/training/7aBpX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Add1', 'Rapid', 'mvaldats', 1966, 'Reebo', 1870, 'e4,c5,Nc3,d6,f4,Nc6,Nf3,g6,b3,Bg7,Bb2,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,e5,Nb5,Qb6,Nxd4,cxd4,Bc4,Nf6,d3,O-O,O-O,Rac8,Kh1,Nh5,f5,Ng3+,Kh2,Nxf1+,Qxf1,d5,exd5,Qd6,Kh1,b5,Bxb5,Rxc2,Bc1,Qxd5,Bc4,Qc6,Bg5,e4,dxe4,Qxe4,Bd3,Qc6,Bxc2,Qxc2,f6,Bh8,Rc1,Qxa2,Qc4,Qf2,Qc6,d3,Qd6,d2', 'Qxf8+,Kxf8,Rc8#', 'https://lichess.org/training/7Add1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7AdLc', 'Rapid', 'Prdimajstor', 2307, 'EsquireAres', 2352, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,cxd6,Nc3,g6,h4,Bg7,h5,Nc6,Be3,O-O,h6,Bf6,g4,d5,g5,Bh8,c5,Nc4,Bxc4,dxc4,Nge2,Bg4,Qd2,Bxe2,Nxe2,f6,O-O-O,fxg5,Bxg5,Bf6,Be3,b5,Nf4,Nxd4,Bxd4,Qxd4,Qxd4,Bxd4,Ne6,Bxf2,Nxf8,Be3+,Kc2,Kxf8,c6,Rc8,c7,Rxc7', 'Rd8+,Kf7,Rf1+,Ke6,Re1', 'https://lichess.org/training/7AdLc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7AGGM', 'Blitz', 'Atakan955', 1821, 'Onurteke19', 1821, 'e4,e5,Nf3,d5,exd5,e4,Ng1,Nf6,d4,exd3,Bxd3,Qxd5,Nf3,Bg4,Nbd2,Qe6+,Qe2,Qxe2+,Bxe2,Nc6,O-O,O-O-O,a4,Bc5,Nb3,Bb6,a5,Bd4,Nfxd4,Nxd4,Bxg4+,Nxg4,a6', 'Ne2+,Kh1,Nxf2+,Rxf2,Rd1+,Rf1,Rxf1#', 'https://lichess.org/training/7AGGM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7aGTX', 'Rapid', 'moni_t', 2127, 'StigHelland', 2101, 'e4,c5,d4,cxd4,Nf3,d3,Bxd3,Nc6,O-O,e5,Bc4,d6,Nc3,Be7,Qe2,Nf6,Rd1,Bg4,h3,Bh5,Be3,O-O,Nb5,Nxe4,Bd5,Nf6,Bb3,e4,g4,exf3,Qxf3,Ne5,Qg3,Bg6,f4,Ne4,Qg2,a6,Nxd6,Qa5,fxe5,Bxd6,exd6,Rad8,Bf4,Qc5+,Kh2,Nxd6,Rd5,Qb4,Bg3,Be4,Bxd6,Qxd6+', 'Rxd6,Bxg2,Rxd8,Rxd8,Kxg2', 'https://lichess.org/training/7aGTX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7AI2s', 'Blitz', 'mbagli', 1728, 'StaleMate21', 1739, 'd4,d5,c4,dxc4,Nc3,e5,d5,Nf6,e4,c6,Bxc4,cxd5,exd5,Bd6,Nf3,O-O,O-O,Bg4,Qd3,Bb4,Nxe5,Bxc3,bxc3,Nbd7,Nxd7,Qxd7,Ba3,Rfe8,Bb3,Be2,Qg3,Bxf1,Kxf1,Qb5+,c4,Qa5,Bb2,Qd2,Bxf6', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/7AI2s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7AinE', 'Rapid', 'karanbehl24', 1773, 'Hazjajin1', 1765, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,h6,Bc4,Nc6,O-O,Ne5,Bb3,c5,Nde2,a6,f4,Nc6,e5,dxe5,Qxd8+,Kxd8,fxe5,Nxe5,Bf4,c4,Bxe5,cxb3,Rad1+,Ke8,axb3,Bc5+,Bd4,Bxd4+,Nxd4,Be6,Rfe1,Ke7,Nf5+,Kf8,Nd4,Ke7,Nxe6,fxe6,Rd3,Rhd8,Rxd8,Rxd8,Re2,Ng4,h3,Nf6,Kf2,Rf8,Kg1,Rd8,Re3,Rd2,Re2,Rxe2,Nxe2,Ne4,Kf1,e5,Nc1,Ke6,Ke2,Kd5,Ke3,b5', 'c4+,bxc4,bxc4+,Kxc4,Kxe4', 'https://lichess.org/training/7AinE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ALP2', 'Rapid', 'frank99', 1669, 'mikheil1992', 1603, 'e4,e5,Nf3,Nc6,Bb5,Qf6,O-O,Nge7,Re1,a6,Ba4,b5,Bb3,d6,h3,Qg6,g4,Bxg4,hxg4,Qxg4+,Kf1,Qh3+,Ke2,Qg4,Rg1', 'Nd4+,Kd3,Qxf3+,Qxf3,Nxf3', 'https://lichess.org/training/7ALP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Amm5', 'Blitz', 'Schach-Zauber', 2635, 'FM ChainsOfFantasia', 2640, 'd4,Nf6,Nf3,d5,Bf4,c5,e3,Nc6,Nbd2,cxd4,exd4,Bf5,c3,e6,Bb5,Rc8,Qa4,Qb6,Ne5,Be7,O-O,O-O,Bxc6,bxc6,b4,h6,h3,Rfd8,Nb3,Ne4,Rac1,f6,Nf3,g5,Be3,Kf7,Nfd2,Nd6,Nc5,h5,Qd1,g4,h4,a5,a3,axb4,axb4,Ra8,Bf4,Nb7,Nxb7,Qxb7,Nb3,Qb5,Qd2,Ra3,Na5,Rc8,Rfe1,Qd3,Qb2,Ra4,Qb3,Qb5,Ra1,Rxa1,Rxa1,Ra8,Bg3,c5,dxc5,Bxc5,Qa4,Qxa4,Rxa4,Bb6,Bd6,e5,Bc5,Bc7,Ra3,Ke6,Nc4,Rxa3,Nxa3,Bd3,f3,f5,fxg4,fxg4,Kf2,e4,Bd4,Bd8,g3,Kd6,b5,Kc7,Ke3,Kb7,c4,Bc7,c5,Bxg3,c6+,Kc7,Bf6,Bd6,Bd4,Bxa3,Kf4,Bd6+,Kg5,g3,b6+,Kxc6,Kxh5,Ba6,Bg1,Bc5,Kg4,Bxg1,h5,Be3,b7,Bh6,b8=Q,Bb7,Qe8+,Kb6,Qe5,Bc8+,Kxg3,Be3,Kg2,Bc5,Qd6+,Kb5,Qxd5,Bb7,Qxc5+', 'Kxc5,h6,e3+,Kg1,Be4', 'https://lichess.org/training/7Amm5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ang9', 'Rapid', 'CPrins2', 1688, 'izam', 1725, 'e4,e5,c3,Nc6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nxd2,Nxd4,Nc4,Nc6,Nf3,d6,Be2,Bg4,O-O,Nh6,Re1,O-O,Qb3,Bxf3,Bxf3,Nd4,Qd3,Nxf3+,Qxf3,b5,Na5,c5,Rad1,Qxa5,a3,Rad8,b4,cxb4,axb4,Qxb4,Rb1,Qc5,Rec1,Qb6,Qh5,a5,Rxb5,Qd4,Rd1,Qxe4,Rxa5,Rfe8,Kf1,Qc4+,Kg1,Qc3,Kf1,Re6,Rg5,Rde8,g3,Re1+,Rxe1,Qxe1+,Kg2,Qe4+,Kh3,Qe6+,Kg2,Qe4+,Kh3,Re6,f3,Qe1,Kh4,Qh1,h3,Rg6,Ra5,Kh8,Qd5,Qg1,Ra8+,Ng8', 'Rxg8+,Kxg8,Qa8#', 'https://lichess.org/training/7ang9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7aoiB', 'Blitz', 'SahakPetrosyan', 2196, 'michalbuko', 1924, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Bd3,Bd6,h3,Bh5,c3,Ne7,Bg5,f6,Bh4,Nd7,Qc2,c6,Nbd2,Qc7,O-O-O,O-O-O,g4,Bg6,Rhe1,Bxd3,Qxd3,Ng6,Bg3,Bxg3,fxg3,Qxg3,c4,dxc4,Nxc4,Nf4,Qa3,Kb8,Qd6+,Ka8,Re3,Nb6', 'Nxb6+,axb6,Ra3#', 'https://lichess.org/training/7aoiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7AOLC', 'Rapid', 'nik_anry', 1995, 'LMN15', 1888, 'd4,e6,c4,Nf6,Nc3,b6,e3,Bb7,Nf3,d5,Bd3,dxc4,Bxc4,Bd6,O-O,O-O,Bd3,Nbd7,b3,c5,Bb2,e5,dxe5,Bxf3,Qxf3,Nxe5,Qe2,Nxd3,Ba3,Nb4,Rad1,Qe7,Nb5,Rfd8,Qf3,a6,Nxd6,Nc2,Bb2,b5,Bxf6,Qxf6,Qxf6,gxf6,Ne4,c4,Nxf6+,Kg7,Nh5+,Kh6,Nf4,c3,Rc1,Rd2,a3,Rc8,g3,Nxa3,e4,b4,Nd5,a5,Kg2,Re2,Kf3,Rb2,Ne7,Rd8,Nc6,Ra8,h4,Rxb3,Ne7,Rd8,g4,Rd2,Kf4,Nc4,Nf5+,Kg6,h5+,Kf6,g5+,Ke6,Ne3,Nxe3,Kxe3,Rbb2,f4,Re2+,Kd4,Rbd2+,Kc4,Rxe4+,Kb3,Rb2+,Ka4,Kf5,Rcd1,c2,Rd5+,Kg4,g6,fxg6', 'Rg5+,Kh4,Rh1#', 'https://lichess.org/training/7AOLC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7aro0', 'Blitz', 'Grigori-Rasputin', 1916, 'gensadich', 1959, 'd4,d5,Bf4,Nc6,Nc3,Bf5,a3,a6,f3,e6,Qd2,Bd6,Bg3,Qd7,O-O-O,Nf6,e3,O-O,Bf2,h6,h4,Bh7,g4,b5,g5,Nh5,gxh6,gxh6,e4,Bf4,Be3,Bxe3,Qxe3,dxe4,fxe4,b4,axb4,Nxb4,Qxh6,Bg6,Rh2,Qd6,Rg2,Qf4+,Qxf4,Nxf4,Rg4,Nh5,Be2,Kh7,Rf1,Kh6,Rg5,f6,Rc5,c6,Nf3,Ng3,Rg1,Nxe2+,Nxe2,Bxe4,Nd2,Bd5,Nf4,Rg8,Re1,Rg4,Nxd5,exd5,Rh1,Rxd4,Nb3,Rf4,Kb1,Re8,c3,Nd3,Rxc6,Re2,Nd4,Rxb2+,Ka1,Rff2,Rxa6,Kh5,Ne6,Rbc2,Ng7+,Kg6,Rg1+,Kf7,h5,Nc5,Ra7+,Kf8,h6', 'Nb3+,Kb1,Rb2#', 'https://lichess.org/training/7aro0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7atOX', 'Blitz', 'VinyBa', 2551, 'FM fighter18', 2468, 'e4,e6,d4,d5,Nd2,c5,Ngf3,cxd4,Nxd4,Nf6,Bb5+,Bd7,exd5,Nxd5,O-O,Bxb5,Nxb5,Be7,c4,Nf6,Qf3,Nc6,Ne4,Nxe4,Qxe4,a6,Nc3,Qd4,Be3,Qxe4,Nxe4,O-O,a3,Ne5,b3,Rfd8,f4,Rd3,Bc5,Nc6,b4,Kf8,f5,exf5,Rxf5,Rad8,Raf1,f6,a4,Rd1,b5,Ne5,Bxe7+,Kxe7,c5,Nc4,Nc3,R1d3,Re1+,Kf7,Ne4,Rd1,Rff1,Rxe1,Rxe1,axb5,axb5,Rd5,Rc1,Rd4', 'Rxc4,Rxc4,Nd6+,Ke6,Nxc4', 'https://lichess.org/training/7atOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7AuaP', 'Rapid', 'mohamed6363', 1745, 'spreeathener', 1751, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,d6,d3,Be6,Bb3,Bxb3,axb3,a6,Bg5,h6,Bh4,g5,Bg3,Qe7,Re1,O-O-O,Na4,Ba7,h3,Rdg8,c3,h5,d4,exd4,cxd4,h4,Bh2,g4,hxg4,Nxg4,e5,Nxh2,Kxh2,dxe5,Nxe5,Nxe5,Rxe5,Qd6,Kh1,f6,Re4,h3,g3,Rd8,Qg4+,Kb8,Rd1,Qd5,Nc3,Qf7,Qf3,Qxb3,d5,Qxb2,Rb1,Qxf2,Qxf2,Bxf2,Kh2,Rdg8,Ne2,f5,Rf4,Bb6,Rxf5,Re8,Nf4,Rd8,Nxh3,Rh7,Kg2,Rdh8,Nf4,Be3,Kf3,Bxf4,Rxf4,Rd7,Rd1,Rhd8,Rfd4,c6,d6,b5,Ke4,Kb7,Ke5,c5,Rd5,Kc6,g4,c4,g5,c3,R5d3,c2,Rc1,Rxd6', 'Rxc2+,Kb7,Rxd6', 'https://lichess.org/training/7AuaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7aunY', 'Rapid', 'Flavio_Monteiro', 1810, 'tops5', 1683, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,c5,d5,Na6,a3,Nc7,O-O,a6,Be3,Rb8,h3,b5,cxb5,axb5,Qd2,Re8,Bh6,Bh8,e5,dxe5,Nxe5,Nfxd5,Nc6,Qd6,Nxb8,Nxc3,Qxd6', 'Nxe2+,Kh1,exd6', 'https://lichess.org/training/7aunY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7aVmq', 'Blitz', 'JellyLuke', 1667, 'julianfrogon', 1711, 'e4,e6,Nf3,d5,exd5,exd5,d4,c6,Nc3,Nf6,Bg5,Be7,Bd3,O-O,h4,h6,Bxf6,Bxf6,Ne2,Bg4,Nf4,Bxf3,Qxf3,Bxh4,O-O-O,Bg5,Kb1,Bxf4,Qxf4,Nd7,Qg4,Nf6,Qg3,Kh8,Rh4,Re8,Rdh1,Re6,Rxh6+,gxh6', 'Rxh6+,Nh7,Rxh7#', 'https://lichess.org/training/7aVmq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7AWJr', 'Classical', 'em48', 2594, 'Giulio43532', 2076, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Kf1,d5,exd5,Nxd5,Nc3,Bxc3,bxc3,O-O,Ng5,Bf5,Qf3,Nce7,Ba3,c6,Re1,Bg6,h4,h5,g4,hxg4,Qxg4,Re8,h5,Bf5,h6,Bxg4', 'h7+,Kh8,Nxf7#', 'https://lichess.org/training/7AWJr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7AZ6f', 'Rapid', 'Santosh_P', 1684, 'MemeMaestro', 1738, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,b6,a3,Bc5,Qg3,g6,Nc3,Nf6,Bg5,h6,Bd2,Qe7,O-O-O,Bb7,Qxc7,Na5,Re1,Bd6,Nb5,Bxc7,Nxc7+,Kf8,Bb4,d6,Nxa8,Bxa8,e5,Kg7', 'exf6+,Qxf6,Bc3', 'https://lichess.org/training/7AZ6f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7aZBI', 'Classical', 'Thomaster', 2158, 'Suryadi-melolo', 1877, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qd8,e4,e6,Nf3,Bb4,Bd3,Nbd7,O-O,Nf8,Bg5,Be7,Re1,Ng6,e5,Nd5,Bxe7,Ngxe7,Ng5,h6,Qh5,g6,Qh3,Nf4,Qh4,Nxd3,Nxf7,Kxf7,Qf6+,Kg8,Re3,Qf8,Ne4,Nxb2,Qh4,Nf5,Qg4,Nxe3', 'Qxg6+,Qg7,Nf6+,Kf8,Qe8#', 'https://lichess.org/training/7aZBI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7aZvf', 'Blitz', 'Kaisoon', 2007, 'SBZechec', 1807, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Bxf7+,Kxf7,Qd5+,Kf8,Qxc5+,d6,Qxc3,Nf6,Nbd2,h6,O-O,Kf7,Nb3,Re8,Re1,Kg8,Nbd2,Bg4,h3,Be6,Nd4,Nxd4,Qxd4,c5,Qe3,Qd7,Nf1,Bf7,Ng3,Rad8,Qf4,Nd5,Qf3,Nf6,Bf4,Qc6,Bxh6,d5,exd5,Rxe1+,Rxe1,Bxd5,Qf5,gxh6,Re5,Bxg2,Re6,Rd1+,Kh2,Qf3,Qg6+,Kh8,Rxf6', 'Rh1+,Nxh1,Qxh3+,Kg1,Qxh1#', 'https://lichess.org/training/7aZvf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7b33z', 'Rapid', 'prafultiwari1957', 1699, 'CEMA1', 1668, 'e4,e6,Nf3,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Bf4,Bb4,Bd2,Nc6,Be2,b6,Bb5,Bb7,O-O,O-O,a3,Bd6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be7,Bxf6,Bxf6,Qg4+,Bg7,Bd3,Qf6,Ne4,Qh6,f4,Nxd4,f5,Nxf5,Ng3,Qe3+,Kh1,Nxg3+,hxg3,Qh6+,Kg1,Kh8,Kf2,Bd4+,Qxd4+,Kg8,Rh1', 'Qd2+,Kf1,Qxg2+,Ke1,Qxh1+', 'https://lichess.org/training/7b33z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7B9lH', 'Rapid', 'ssimonyancz', 1780, 'Winzeter', 1750, 'd4,d5,c4,Nf6,Nf3,Bf5,Nc3,e6,e3,c5,cxd5,Nxd5,Bb5+,Nd7,O-O,a6,Bxd7+,Qxd7,Ne5,Qc7,Qa4+,b5', 'Nxb5,axb5,Qxa8+', 'https://lichess.org/training/7B9lH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7baVF', 'Rapid', 'NoahMelto', 1865, 'griv2289', 1809, 'e4,c5,Nf3,d6,h3,g6,Bc4,a6,a4,Nf6,Nc3,Bg7,d3,Nc6,Bf4,Nd7,O-O,Nde5,Nxe5,Nxe5,Bxe5,Bxe5,f4,Bg7,Qe2,O-O,f5,Bd4+,Kh1,Bd7,Nd5,e6,fxe6,fxe6,Rxf8+,Qxf8,Rf1,Qg7,Nc7,Rf8,Bxe6+,Bxe6,Nxe6,Rxf1+,Qxf1,Qf7,Qxf7+,Kxf7,Ng5+,Kg7,c3,Bf6,Ne6+,Kf7,Nf4,Bg5,Nd5,Bc1,b3,Ke6,g4,g5,Kg2,Ke5,Kf3,h6,Nb6,Bd2,Nd5,b5,axb5,axb5,Ke2,Bc1,Nb6,Ba3,Nd7+,Ke6,Nf8+,Kf6,Ke3,b4,c4,Bb2,Nd7+,Ke6,Nb6,Bd4+,Kf3,Be5,Nd5,Bg7,Kg3,Ke5,h4,Kd4,hxg5,hxg5,Ne7,Kxd3,Nf5,Be5+,Kf3,Kc3,Ne3,Kxb3,Ke2,Bf4,Nf5,Kxc4,Kd1,Kd3,Ng7,Kxe4,Ne6,Kf3,Kc2,Kxg4,Kb3,Kf5,Ng7+,Kg6,Ne8,g4,Nc7,g3,Nd5,g2,Nxf4+,Kf5,Nxg2,Ke4,Ne1,Kd4,Nc2+,Kd5,Ne3+,Kc6,Nc4,d5,Ne5+', 'Kb5,Kc2,c4', 'https://lichess.org/training/7baVF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7bc2Z', 'Rapid', 'Wad1m', 1702, 'senorsmoke', 1681, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,Bg4,h3,Bh5,g4,Bg6,Ng5,d5,exd5,Nxd5,h4,h6,h5,hxg5,Bxg5,Bh7,Qf3,Nf6,Qxb7,Nbd7,Bxf6,Nxf6', 'Bb5+,Nd7,Bxd7+,Qxd7,Qxa8+', 'https://lichess.org/training/7bc2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7bdD6', 'Classical', 'BocToK_1', 1673, 'MarcooCassa', 1773, 'e4,e5,d4,exd4,Qxd4,Nc6,Qa4,Nf6,Bd3,d5,e5,Ng4,f4,Bd7,Bb5,Nb4,Na3,c6,Bd3,c5,Bb5,Bxb5,Qxb5+,Qd7,Qxd7+,Kxd7,c3,Nd3+,Ke2,c4,Nb5,Ngf2,Nh3,Nxh1,Be3,Nhf2,Nxf2,Nxf2,Bxf2,Kc6,a4,Bc5,Rb1,Bb6,Bd4,Bxd4,cxd4,a6,Nd6,f6,b3,fxe5,fxe5,b5,bxc4,dxc4,axb5+,axb5,Rxb5,Ra2+,Kf3,Rf8+,Kg3,Ra3+,Kg4,c3,d5+,Kc7,Rb7+,Kd8,Rb8+,Ke7,Rb7+,Kd8,Rb8+,Ke7,Nc8+,Kd7', 'Nb6+,Kc7,Rxf8', 'https://lichess.org/training/7bdD6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7BEX1', 'Rapid', 'BewaretheCat', 1650, 'srebrno', 1676, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,c5,c3,a6,Be2,c4,Nbd2,Bd7,Ne5,Bd6,Nxd7,Qxd7,Bxd6,Qxd6,Nf3,Nbd7,O-O,O-O,Re1,b5,Bf1,Ne4,h3,Nb6,Ne5,f6,Ng4,Na4,b3,Naxc3,Qc2,b4,f3,Ng3,bxc4,Nxf1,c5,Qg3,Rxf1,h5,Nf2,e5,a3,a5,axb4,axb4,Rxa8,Rxa8,dxe5,fxe5,Nd3,Ra2,Ne1,Rxc2,Nxc2,b3,c6,bxc2,c7,e4', 'c8=Q+,Kh7,Qxc3', 'https://lichess.org/training/7BEX1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7BfaT', 'Rapid', 'rogerlyra', 1677, 'KnightsReign', 1657, 'e4,c5,Bc4,Nc6,Nc3,g6,a3,Bg7,Nf3,a6,O-O,e6,d3,Nge7,Be3,d6,d4,cxd4,Nxd4,O-O,Qd2,b5,Nxc6,Nxc6,Ba2,Bb7,Bh6,Rc8,Bxg7,Kxg7,Ne2,Qc7,c3,Rfd8,Qg5,Ne5,Nd4,d5,Bb1,dxe4,Ba2,Bd5,Bxd5,exd5,Nf5+,Kh8', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/7BfaT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7bgRQ', 'Rapid', 'Chessmaster28', 2076, 'qwertymalina', 1980, 'e4,d6,Nf3,h6,Bc4,g5,d4,Bg7,Nc3,Nd7,Be3,Nf8,O-O,Ng6,Qd3,g4,Nd2,c6,f3,Nf6,e5,dxe5,dxe5,Qxd3,cxd3,Nxe5,fxg4,Nxc4,Nxc4,Nxg4,Ne4,Nxe3,Nxe3,Bxb2,Rab1,Bd4,Rfe1,b5,Kh1,Bxe3,Rxe3,Be6,a4,a6,Nc5,Bd5,Rbe1,e6,Kg1,Rg8,g3,h5,Kf2,Ke7,Re5,f5,Nxe6,Kf6,Nc7,Ra7,axb5,axb5,Nxd5+,cxd5,Rxd5,b4,Rd6+,Kg5', 'h4+,Kg4,Rd4+,f4,Rxf4+,Kh3,Rh1#', 'https://lichess.org/training/7bgRQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7bhDv', 'Rapid', 'MihoSevastopol', 1761, 'hrosik', 1967, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Nf3,a5,Be3,Nc6,Qd2,e5,d5,Ne7,Bh6,c6,Bxg7,Kxg7,Bd3,cxd5,cxd5,Bd7,O-O,Ne8,Bb5,Bxb5,Nxb5,h6,Rac1,f5,exf5,Nxf5,a4,Rf7,Rc4,Nc7,Rxc7,Rxc7,Nxc7,Qxc7,Rc1,Qb6,Qc3,Rf8,g4,Ne7,Qc7,Qxb2,Rc2,Qb3,Nxe5,dxe5', 'Qxe7+,Rf7,Qxe5+', 'https://lichess.org/training/7bhDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7bLIs', 'Rapid', 'mannooo', 1886, 'davood-eiri', 1873, 'd4,d5,c4,dxc4,Nc3,Bg4,h3,Bh5,Nf3,e6,e4,Nf6,e5,Nd5,Bxc4,Nxc3,bxc3,Be7,O-O,Nd7,Be2,Bxf3,Bxf3,c6,Rb1,Rb8,Bh5,Qa5,Qf3,g6,Bh6,gxh5,Qxh5,Bf8,Bd2,Qxa2,Qg5,Be7,Qg7,Rf8,Bh6,Kd8,Qxh7,Re8,Qxf7,Kc7,Ra1,Qd5,Rxa7,Rg8,f3,Bg5,Bg7,Be3+,Kh1,Qc4,Re1,Qxc3,Raa1,Bxd4,Red1,Rbd8,Qe7,Bc5,Qxe6,Rxg7,Rac1,Qxe5', 'Rxd7+,Rgxd7,Qxe5+', 'https://lichess.org/training/7bLIs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7bmN5', 'Rapid', 'kaus24', 1690, 'Ismelys', 1694, 'd4,d5,c4,dxc4,e3,Be6,Nc3,a6,a3,Nf6,h3,h6,Nf3,Bd5,Be2,Bxf3,Bxf3,c6,O-O,e6,Re1,Nbd7,Be2,Nb6,b3,cxb3,Qxb3,Be7,Bb2,O-O,Bf3,Rb8,Rad1,Nbd5,Ne4,Nxe4,Bxe4,Nf6,Bf3,Nd5,e4,Nf4,g3,Ng6,d5,exd5,exd5,Qc7,Rc1,Bg5,Rc4,Rfe8,Rd1,Ne5,Bxe5,Rxe5,dxc6,bxc6,Rxc6', 'Rxb3,Rxc7,Rxf3,Rc8+,Kh7', 'https://lichess.org/training/7bmN5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7BmtJ', 'Rapid', 'umbertodilullo95', 1943, 'AleksDan911', 1916, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,Re1,Bc5,c3,O-O,d4,exd4,cxd4,Bb4,Re2,d6,a3,Ba5,b4,Bb6,Bb2,Bg4,Rd2,Nxe4,Rd3,Kh8,h3,Bh5,g4,Bg6,d5,Ne5,Nxe5,dxe5,Rf3,f6,Nc3,Nd6,Bd3,e4,Nxe4,Bxe4,Bxe4,Nxe4,h4,Qd6,g5,fxg5,hxg5,Rxf3,Qxf3,Nxg5,Qh5,Qf4', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/7BmtJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7BSe7', 'Rapid', 'Eslam_Ahmed', 1733, 'bdharshamR', 1721, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,d6,d4,exd4,cxd4,Bb4,d5,a6,Ba4,b5,Bc2,Nb8,Nc3,Bg4,h3,Bh5,Re1,O-O,Qd4,Bc5,Qd1,Nd7,Be3,Bb4,a3,Ba5,b4,Bb6,Bxb6,Nxb6,Qd3,Bg6,Nh4,Nc4,Nxg6,fxg6,a4,Qd7,axb5,axb5,f4,Rxa1,Rxa1,Rxf4,Bb3,Ne5,Qxb5,Qxb5,Nxb5,Rxe4,Nxc7,Rxb4,Ra8+,Kf7,Ba4,Kf6,g4,Rb1+,Kg2,g5,Rf8+,Nf7,Ne6,Rb2+,Kf3,Nxd5,Nd4,Ke7', 'Re8+,Kf6,Re6#', 'https://lichess.org/training/7BSe7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7BTdT', 'Rapid', 'Louismor', 1809, 'marivaldo', 1956, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bg4,h3,Bh5,d3,Nf6,g4,Bg6,g5,Nd7,Be3,Bh5,Rg1,Nb4,Rg3,Be7,Qd2,a6,Ba4,b5,Bb3,c5,a3,Nc6,Bd5,Qc7,Nh4,g6,Ng2,Rc8,f4,b4,axb4,Nxb4,f5,Qb6,f6,Bd8,Na4,Qb8,c3,Nxd5,exd5,Nb6,Nxb6,Qxb6,c4,Rb8,b4,Qxb4,Rxa6', 'Qb1+,Kf2,Rb2,Qxb2,Qxb2+', 'https://lichess.org/training/7BTdT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7bTQ0', 'Rapid', 'reznikel', 1809, 'goodluck_jonathan', 1813, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,Bg5,h6,Bh4,Be7,O-O,Nh7,Bg3,Ng5,Nxe5,Nxe5,Bxe5,d6,Bg3,Be6,Bb3,Bxb3,Qxb3,Kh8,Qxb7,f5,exf5,Rxf5,Nd2,Rb8,Qxa7,Rxb2,Nc4,Re2,Ne3,Rc5,c4,Qf8,Nd5,Bf6,Nxf6,Qxf6,h3,Nxh3+,gxh3,Qf3,Qb8+,Kh7,Qb3,Rg5,d4', 'Rxg3+,fxg3,Qg2#', 'https://lichess.org/training/7bTQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7bueM', 'Blitz', 'CATALONIAnotSPAIN', 2084, 'GDM13', 2185, 'Nc3,d5,e4,dxe4,Nxe4,e5,Bc4,Nc6,d3,Be7,Nf3,Nf6,Nfg5,O-O,O-O,Nxe4,Nxe4,Kh8,a3,f5,Nc3,f4,f3,Bc5+,Kh1,Qh4,Ne4,Rf5,Qe1', 'Qxh2+,Kxh2,Rh5+,Qh4,Rxh4#', 'https://lichess.org/training/7bueM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7BUT0', 'Classical', 'Manifique', 1749, 'Florian1313', 2044, 'd4,d5,Nf3,Nf6,e3,Bf5,Bd3,Bxd3,Qxd3,e6,Nbd2,c5,O-O,Nc6,e4,dxe4,Nxe4,Nxe4,Qxe4,cxd4,Rd1,Be7,Qg4,Bf6,Bg5,e5,c3,Bxg5,Nxg5,O-O,cxd4,Nxd4,Kh1,Qf6,Ne4,Qg6,Qd7,b6,Qc7,Qxe4,Re1,Qc6,Qxe5,Nc2,Rac1,Rfe8,Qc3,Rxe1+,Qxe1,Nxe1,Rxc6,Nd3,Kg1,Re8,g3,Nxb2,Kg2,Kf8,Rc7,Re7,Rc8+,Re8,Rc7,a5,Rb7,Re6,Rb8+,Ke7,Rb7+,Kf6,f4,Na4,g4,Nc5,g5+,Kf5,Rxf7+,Kg6,Rf8,Re4,h4,Ne6,f5+,Kh5,fxe6,Rxe6,Rf4,Re2+,Kf3,Rxa2,Kg3,b5,Rf7,Kg6,Rb7,b4,Kg4,Ra3', 'h5#', 'https://lichess.org/training/7BUT0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7BY4p', 'Classical', 'fadel-chess', 1715, 'LolloTiacci', 1758, 'e4,c5,f4,e6,Nf3,Qc7,d4,cxd4,Nxd4,a6,Bd3,e5,fxe5,Qxe5,Nf3,Qc5,Nc3,Nc6,Nd5,Bd6,Be3,Qa5+,c3,Nge7,b4,Qd8,Bb6,Nxd5,Bxd8,Ne3,Qb3,Nxd8,Kf2,Ng4+,Ke2,O-O,h3,Nh6,e5,Bc7,Ng5,d6,Nxh7,Re8,Rhf1,Rxe5+,Kd2,Be6,Bc4,Kxh7,Bxe6,Nxe6,Rae1,Rxe1,Rxe1,Rd8,Qc4,d5,Qd3+,Kg8,Kc2,d4,c4,Nf4,Qf3,d3+,Kd2,Nf5,Qxb7,Bb8,g4,Nh6,Qb6,Rf8,Re7,Nxh3,Kxd3,Nxg4,Rb7,Nhf2+,Kc2,Be5,Re7,Bf6,Re2,Rc8,c5,Be5,Qb7,Rb8,Qa7,Rxb4,Qa8+,Kh7,Qxa6,Bd4,Qc8', 'Rb2+,Kc1,Rxe2', 'https://lichess.org/training/7BY4p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7bycc', 'Classical', 'MR_TR', 2090, 'janwithlove', 2175, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Be7,Nxc6,dxc6,Ba4,Be6,d4,O-O,c3,b5,Bc2,a5,Bf4,a4,Nd2,Bg5,Qh5,h6,Bxg5,Qxg5,Qxg5,hxg5,Nf3,Bd5,Nxg5,Rfe8,Bd3,Rxe1+,Rxe1,Bxa2,Re7,Bc4,Be4,Bd5,Bd3,Re8,Rxe8+,Nxe8,Be4,Bxe4,Nxe4,Nd6,Nxd6,cxd6,Kf1,c5,dxc5,dxc5,Ke2,b4,cxb4,cxb4,Kd2,Kh7,Kd3,a3,bxa3,bxa3,Kc3,Kg6,Kb3,Kf5,Kxa3,Ke4,Kb4,Kd3,Kc5,Ke2,f4,Kf2,g3', 'Kg2,g4,Kxh2,g5,Kg3', 'https://lichess.org/training/7bycc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ByGd', 'Rapid', 'materuso1', 1785, 'rhavi09', 1873, 'Nf3,b5,e4,a6,c4,Bb7,d3,c6,cxb5,cxb5,Nc3,d6,d4,Nd7,d5,Rc8,Bd2,Nb6,b3,g6,Be2,Bg7,O-O,Bxc3', 'Bxc3,Rxc3,Qd4,Nf6,Qxc3', 'https://lichess.org/training/7ByGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7caLR', 'Bullet', 'hugo811', 1684, 'Anuremag', 1757, 'c4,e5,Nc3,d6,g3,Nf6,Bg2,c6,e3,b6,Nge2,Bb7,d4,exd4,Nxd4,Be7,O-O,Qd7,b3,c5,Nf3,Nc6,Bb2,O-O,Nd5,Nxd5,Qxd5,Ne5,Qd2,Bxf3,Bxe5,Bxg2,Kxg2,Qc6+,Kg1,dxe5,Qc3,Bf6,Rad1,Qe6,Qc2,h6,Qe4,Rad8,Qb7,Rxd1,Rxd1,Qe7,Qa6,Rd8,Rxd8+,Qxd8,Qxa7,e4,Qb7,h5,Qxe4,h4,Kg2,Qd1,Qe8+,Kh7,Qxf7,Qg4,Qb7', 'h3+,Kf1,Qd1#', 'https://lichess.org/training/7caLR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7CdBA', 'Classical', 'AlirezaNasa', 1789, 'rodneymacias', 1874, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bb4,O-O,Bxc3,dxc3,O-O,Re1,d6,h3,Ne7,Bg5,Nd7,Nh4,h6,Bxe7,Qxe7,Ng6,Qd8,Nxf8,Nxf8,Qf3,Be6,Bxe6,Nxe6,Qg4,c6,Re3,Qb6,b3,d5,exd5,cxd5,Rxe5,Rc8,Rxd5,Rxc3,Rc1,Qc6,Rd2,Ng5,Qf5,Qe8,Rcd1,Ne6,Rd7,Rc7,Rxc7,Nxc7,Rd7,Ne6,Rxb7,Nd4,Qf4', 'Ne2+,Kh2,Nxf4', 'https://lichess.org/training/7CdBA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7CE2x', 'Bullet', 'yavuzzmm', 2026, 'shabashabdullatef', 2061, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Bc4,Nc6,Qd2,Bd7,O-O-O,Rc8,Bb3,Ne5,h4,h5,Bg5,Rc5,g4,hxg4,f4,Nc4,Bxc4,Rxc4,e5,Qc8,exf6,exf6,Nd5,Qd8,Qd3,Rxd4,Qxd4,fxg5,Qb4,Bc6,hxg5,Qd7,Nf6+,Bxf6,gxf6,Bxh1,Rxh1,Qe6,Qd4,d5,c3,Rc8,Qe5,Rc6,Qg5,Qf5', 'Rh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/7CE2x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7cEmV', 'Rapid', 'Abdula67', 1714, 'Prabhatkumar', 1672, 'e4,Nf6,e5,Ne4,b4,d5,d3,Nd6,exd6,Qxd6,a3', 'Qe5+,Be2,Qxa1', 'https://lichess.org/training/7cEmV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7CFSH', 'Rapid', 'Stevieboy1', 2056, 'bbeltkyle89', 2082, 'd4,d6,c4,e5,Nf3,e4,Ng1,f5,Nh3,h6,e3,Nf6,Be2,Be6,Qb3,Qc8,Nf4,Bf7,h4,Nc6,Bd2,a5,h5,a4,Qb5,Qd7,Qxb7,Rb8,Qa6,Rxb2,Qxa4,Nb4,Qxd7+,Kxd7,Bxb4,Rxb4,Nd2,Be7,O-O,Ng4,a3,Rb2,Bxg4,fxg4,Nxe4,Bxc4,Ng6,Bxf1,Nxh8,Bd3,Nc3,Bf6,Nd5,Bh4,g3,Be4,gxh4,Bxd5,Ng6,g3,fxg3,Rg2+,Kf1,Rxg3,Ke2,Rg2+,Kd3,Rh2,e4,Bf7,Nf4,Rxh4,Ke3,Bxh5,a4,Bf7,a5,Kc8,a6,Kb8,a7+,Ka8,d5,g5', 'Ne6,Bxe6,dxe6', 'https://lichess.org/training/7CFSH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7cgAm', 'Rapid', 'Someoneplaying', 1672, 'absalove', 1624, 'd4,d5,Bf4,Bf5,e3,Nc6,a3,e6,c4,Nf6,c5,Be7,Nc3,O-O,Nb5,a6,Nc3,e5,Bg3,exd4,exd4,Re8,Be2,Ne4,Nxe4,Bxe4,f3,Bg6,Nh3,Bh4,Kf2,Bf6,Re1,Bxd4+,Kf1,Bxb2,Rb1,Bxa3,Rxb7,Bxc5,Rxc7,Qf6,Qxd5,Bb4,Rxc6,Qe7,Bd6,Bxd6,Rxd6,a5,Nf4,Bc2,Qa2,Bf5,Rd5,Be6,Nxe6,Qxe6,Rxa5', 'Qxa2,Rxa2,Rxa2', 'https://lichess.org/training/7cgAm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7CgTb', 'Rapid', 'Emma_Haizlee', 1771, 'jeep13k', 1816, 'e4,g6,d4,Bg7,c3,c6,Bd3,d6,Nf3,e5,Nbd2,Nf6,dxe5,dxe5,Nxe5,Nxe4,Nxe4,Bxe5,Bg5,Qc7,Qe2,O-O,Nf6+,Bxf6,Bxf6,Be6,Qf3,Bd5,Qh3,Re8+,Be2,Bc4,Qh6', 'Rxe2+,Kd1,Qd6+', 'https://lichess.org/training/7CgTb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7cHon', 'Rapid', 'Nacho45', 1754, 'yass_chess', 1785, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,h3,Bh5,Be2,Nf6,d3,e6,O-O,Be7,Ne5,Bxe2,Qxe2,Nbd7,Bf4,O-O,Qf3,c6,a3,Nxe5,Bxe5,a6,Rfe1,Qd7,Qg3,Nh5,Qg4,g6,Ne4', 'f5,Qd1,fxe4', 'https://lichess.org/training/7cHon');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Chxu', 'Rapid', 'xxxmax', 2121, 'Tobenbert', 2131, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Qd3,Nc6,Nxc6,bxc6,Bg5,Qa5,Bxf6,gxf6,a3,Ba6,Qf3,Bxf1,Qxf6,Rg8,Kxf1,Be7,Qf3,Rb8,Rb1,Bxa3,bxa3', 'Rxb1+,Nxb1,Qb5+,Qe2,Qxb1+', 'https://lichess.org/training/7Chxu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7CIEz', 'Rapid', 'tash01', 1726, 'krzysiekstasilas', 1682, 'd4,d5,Bf4,Nc6,e3,Nf6,c3,a6,Qc2,Nh5,Nd2,Nxf4,exf4,e6,Ngf3,Bd6,g3,O-O,Bd3,h6,O-O,Ne7,Rfe1,c5,a3,cxd4,Nxd4,Bc5,N2f3,b5,b4,Bb6,Bh7+,Kh8,Bd3,Bb7,Qd2,Rc8,Rac1,Nc6,Nxc6,Rxc6,Nd4,Rc7,h4,Qf6,Bf1,Rfc8,Re5,Qe7,Qe1', 'Bxd4,cxd4,Rxc1', 'https://lichess.org/training/7CIEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7cKu6', 'Rapid', 'referee72', 1753, 'Andzhey', 1748, 'e4,d6,f4,e5,Nf3,exf4,d4,g5,Bc4,c6,O-O,h6,e5,d5,Bb3,Be6,Nbd2,Bg7,c4,Ne7,cxd5,cxd5,Ba4+,Nbc6,Nb3,a6,Nc5,b5,Nxe6,fxe6,Bc2,Kd7,Bxf4,gxf4,Nh4,h5,Rxf4,Bh6,Rf7,Qe8,Qf3,Nxd4,Qf6,Be3+,Kh1,Rf8,Bg6,Rxf7,Bxf7,Qf8,Rf1,Rc8,Ng6,Nxg6,Qxg6,Qh6,Bxe6+,Nxe6,Rf7+,Kd8', 'Qg8+,Nf8,Rxf8+,Qxf8,Qxf8+', 'https://lichess.org/training/7cKu6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7cn2n', 'Rapid', 'erpichi', 2007, 'luminarydebris', 2034, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Nbd7,O-O,Be7,f4,Qc7,Bxe6,fxe6,Nxe6,Qb6+,Kh1,Kf7,Nd5,Nxd5,Qxd5,Nf6,Ng5+,Ke8,Qf7+,Kd8,e5,Ng4,Ne4,Rf8,Qxg7,dxe5,Rd1+,Bd7,Qxg4,Qc6,fxe5', 'Rf1+,Rxf1,Bxg4', 'https://lichess.org/training/7cn2n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7cpMr', 'Blitz', 'Blindtrader', 1955, 'carlosbareiro', 1882, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,Bd3,c5,Bb5,Nc6,Nce2,cxd4,Bd2,Qb6,Bxc6,bxc6,Nf3,c5,O-O,Be7,a4,Ba6,a5,Qc7,c3,d3,Nf4,Nxe5,Re1,Bd6,Nxe5,Bxe5,Qg4,O-O,Nh5,Bxh2+,Kh1,Be5,Rxe5,Qxe5,Re1,f5,Qg5,h6,Qg6,Qc7,Bxh6,Rf7,Rxe6,Bc4,Nf6+,Kf8,Bxg7+,Rxg7', 'Re8+,Rxe8,Qxe8#', 'https://lichess.org/training/7cpMr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7cTjN', 'Rapid', 'vranjevcan', 1952, 'Masoud-Sh1', 1899, 'd4,e6,c4,d5,Nc3,Nf6,Nf3,Bb4,Qc2,c5,Bg5,Nc6,a3,Bxc3+,bxc3,dxc4,Ne5,cxd4,Nxc6,bxc6,cxd4,Qxd4,Rd1,Qe5,Bxf6,Qxf6,Qxc4,Bb7,Qc5,Qe7,Qxe7+,Kxe7,e4,Rhd8,Be2,Rxd1+,Bxd1,Ba6,e5,Rb8,Bc2,Rb2,Kd2,h6,Kc3,Rb8,f4,g6,Rc1,Be2,a4,Bg4,Be4,Rc8,Kd4,Kd7,Kc5,Bf5,Bf3,h5,h3,Bd3', 'Rd1,Ke7,Rxd3', 'https://lichess.org/training/7cTjN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7CW82', 'Rapid', 'erdmsener', 1828, 'Boumattar', 1757, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,O-O,c3,d6,h3,Be6,Bxe6,fxe6,d4,exd4,cxd4,Bb6,Nc3,e5,dxe5,Nxe5,Bf4,Ng6,Bg5,Qd7,e5,dxe5,Bxf6,Qxd1,Raxd1,Rxf6,Nd5,Re6,Nxb6,axb6,Rd7,Rxa2,Rxc7,Rxb2,Rxb7,Kf8,Ng5,Re7,Nxh7+,Kf7,Ng5+,Kf6,Ne4+,Kf7,Nd6+,Kf6,Rxe7,Kxe7,Nc4,Rb5,g3,Ke6,f4,Kf5', 'Nd6+,Kf6,Nxb5', 'https://lichess.org/training/7CW82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7CxZg', 'Blitz', 'zuletacabure', 1954, 'jaodidal', 1932, 'e4,b6,d4,Bb7,Nf3,Bxe4,Nc3,Bb7,Bc4,g6,Ne5,e6,O-O,Bg7,Re1,d5,Qf3,Nf6,Bd3,O-O,Bg5,Nbd7', 'Nxd7,Qxd7,Bxf6,Bxf6,Qxf6', 'https://lichess.org/training/7CxZg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7cZRT', 'Blitz', 'Gambitov', 1978, 'Simon_Oehrlein', 1911, 'd4,Nf6,Nc3,g6,Bf4,d6,e3,Bg7,h4,Nc6,h5,Nxh5,Rxh5,gxh5,Qxh5,Be6,d5,Bxc3+,bxc3,Qd7,Bb5,Bxd5,Qxd5,O-O-O,Bxc6,Qxc6,Qxc6,bxc6,Nf3,Kd7,Nd4,Rb8,Nb3,Rhg8,g3,h5,e4,h4,gxh4,Rg1+,Ke2,Rg2,Bg3,Rg8,Kf3,R8xg3+,fxg3,Rxc2,Rh1,Rxc3+,Kf4,e5+,Kg4,Re3,Nd2,Re2,Nb3,Rxe4+,Kf3,Ra4,h5,Rxa2,h6,Rb2,h7,Rxb3+,Kg4,Rb8,h8=Q,Rxh8,Rxh8,c5,Rh7,Ke6,Kf3,a5,Rh4,Kd5,Ra4,c4,Rxa5+,Kd4,Ke2,c5,Ra7,f5,Rd7,d5,Rf7,Ke4,Rh7,d4,Rh4+,Kd5,Rh5,c3,Rxf5,c4,g4,d3+,Kd1,Kd4,g5,c2+,Kc1,Kc3,Rf2', 'e4,g6,e3,Rxc2+,dxc2,g7,e2,g8=Q,e1=Q#', 'https://lichess.org/training/7cZRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7d03b', 'Blitz', 'Kiamat', 1863, 'S165', 2204, 'd4,Nf6,c4,e6,Nc3,d5,e3,c6,Nf3,Nbd7,b3,Bb4,Bd2,O-O,Bd3,Qe7,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,Qc2,Ng4,f4,Qh5,h3,Nf6,cxd5,cxd5,Ne2,Bxd2,Qxd2,Re8,Nd4,Bd7,Rae1,Ne4,Bxe4,Rxe4,Nf3,Bc6,Ne5,Re8,Qc2,Bb5,Rf3,f6,g4,Qh4,Qd2,fxe5,Qxd5+,Kh8,Rc1,exf4,Qxb5,fxe3,Rcf1,Qe7', 'Qxe8+,Qxe8,Rf8+,Qxf8,Rxf8#', 'https://lichess.org/training/7d03b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7d0i4', 'Rapid', 'Gack768', 1728, 'PARTHA-WB-IN', 1761, 'c4,c5,Nc3,Nc6,d3,g6,Bd2,Bg7,g3,d6,Bg2,e6,Nf3,Nge7,e4,O-O,Qc2,a6,Bg5,h6,Be3,Rb8,Qd2,g5,h4,f6,a4,Na5,Qc2,b6,Rb1,Bb7,b4,Nac6,b5,Nb4,Qd2,axb5,axb5,d5,exd5,exd5,hxg5,fxg5,Na2,d4,Nxb4,dxe3,Qxe3,cxb4,Qe6+,Kh8,Nxg5,Bxg2', 'Rxh6+,Bxh6,Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/7d0i4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7D0On', 'Bullet', 'jf5000', 2073, 'matomadar', 2072, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,e5,d3,Bf5,Bg5,e4,dxe4,Qxd1+,Kxd1,Nxe4,Be3,O-O-O+,Kc1,Bc5,Bxc5,Nxc5,Nc3,Nb4,Nh4,Bg4,f3,Be6,Ne4,Rd4,b3,f5,Nxc5,Rhd8,Be2,Rd2,Nxe6,Rc2+,Kb1,Rdd2,Bd1', 'Rb2+,Kc1,Nd3#', 'https://lichess.org/training/7D0On');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7d1mv', 'Blitz', 'hunjan', 1685, 'kissel', 1682, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,Qc7,Bb5,Nxd4,Qxd4,e5,Qd3,Nf6,O-O,Be7,Be3,O-O,Nc3,d6,Nd5,Nxd5,exd5,f5,Rfe1,f4,Bd2,Rf6,c4,Rg6,Ba4,Bh3,Qxh3,Rf8,Bc2,Rh6,Qd3,Qb6,Bc3,Bh4,g3,fxg3,hxg3', 'Qxf2+,Kh1,Bxg3#', 'https://lichess.org/training/7d1mv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7D83n', 'Rapid', 'uwuphile', 2013, 'Kamlesh77', 2083, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,e6,h4,h6,h5,Bh7,c3,Bd6,Qb3,b6,Be3,Bxg3,fxg3,Nf6,Ne5,O-O,O-O-O,Nd5,Bd2,Nd7,g4,Nxe5,dxe5,a5,c4,Nb4', 'Bxb4,Qg5+,Bd2', 'https://lichess.org/training/7D83n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7d9eD', 'Rapid', 'paulboyo', 1954, 'Seemahot', 1654, 'c4,e6,e4,d5,cxd5,exd5,e5,f6,exf6,Nxf6,Nf3,Bd6,d4,O-O,Be2,Ne4,O-O,c6,Nc3,Bc7,Bd3,Qd6,g3,Bh3,Re1,Qf6,Nxe4,dxe4,Bxe4,Bg4,Kg2,Nd7,Re3,Rad8,Qd3,c5,Bxh7+,Kh8,Be4,cxd4,Qxd4', 'Bxf3+,Bxf3,Qxd4', 'https://lichess.org/training/7d9eD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7dA1A', 'Blitz', 'Mehly', 2358, 'murraygeenwood', 2020, 'e4,d6,Nf3,Nf6,Nc3,Nbd7,d4,e5,g4,d5,dxe5,Nxe4,Qxd5,Nxc3,bxc3,c6,Qc4,Nb6,Qf4,Be6,Bd3,h6,O-O,Bc5,Nd4,Qe7,Nxe6,Qxe6,Bf5,Qe7,Be3,Nd5,Qg3,Nxe3,fxe3,O-O,h4,Rae8,e6,fxe6,Bg6,Rd8,g5,hxg5,hxg5,Rxf1+,Rxf1,Rf8,Rxf8+,Kxf8,Qf3+,Kg8,Kh1,a5,Qh5,Qd6', 'Qh7+,Kf8,Qh8+,Ke7,Qe8#', 'https://lichess.org/training/7dA1A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Dc0w', 'Blitz', 'WFM kukarina', 1958, 'livro-dos-dias', 1955, 'Nf3,Nf6,g3,d5,Bg2,c6,O-O,Bf5,c4,h6,cxd5,cxd5,d3,Nc6,Nc3,e6,Qb3,Qb6,Qc2,Nb4,Qa4+,Nc6,Ne5,Rc8,e4,dxe4,dxe4,Bg6,Nxc6,Qxc6,Qxc6+,bxc6,e5,Nd5,Ne4,Bb4,a3,Ba5,b4,Bb6,Bb2,Ke7,Rac1,Bxe4,Bxe4,Rhd8,Kg2,c5,bxc5,Bxc5,a4,a5,Rxc5,Rxc5,Ba3,Nb4,Rb1,Rc4,Bf3,Rd3,Be2,Rxa3,Bxc4,Rxa4,Rd1,Ra3,Bb5,Nd5,Bc6,Nb4,Rd7+,Kf8', 'Rd8+,Ke7,Re8#', 'https://lichess.org/training/7Dc0w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7dizc', 'Classical', 'subodh_mane', 1680, 'BHARATHIRAAJAA', 1662, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qg5,d4,Qxg2,Kd2,Qxe4,Re1,Qxd4+,Nd3+,Be7,c3,Qd5,Re5,Qd6,Qf3,Be6,Kc2,f6,Rc5,b6,Rxc6,Qd7', 'Rxe6,Qxe6,Qxa8+', 'https://lichess.org/training/7dizc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7dJ9y', 'Rapid', 'Esacwollip', 1818, 'ToyStealer', 1815, 'd4,Nf6,c4,e6,Nf3,Bb4+,Nc3,d6,Qc2,Nc6,a3,Bxc3+,Qxc3,O-O,Bg5,Re8,e3,e5,dxe5,dxe5,Rd1,Qe7,Be2,h6,Bh4,Bg4,O-O,g5,Bg3,Ne4,Qc2,Bf5,Bd3,Nxg3,fxg3,e4,Bxe4,Bxe4,Qc3,Bxf3,gxf3,Qxe3+,Qxe3,Rxe3,Rd7,Rc8,f4,g4,h3,Rxg3+,Kh2,Rxh3+,Kg2,h5,f5,Re3,f6,Re6,Rf5,Re5,Rf4,Nb8,Re7,Re8,Rxc7,Re2+,Kg3,R8e3+,Kh4,Rh2+,Kg5,Re5+,Kh6,Re8,Rf5,Rhe2,Rxb7,R2e6', 'Rg5+,Kh8,Rxf7,Rxf6+,Rxf6', 'https://lichess.org/training/7dJ9y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7DJqe', 'Classical', 'bala7777', 1783, 'gabriele84', 1735, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,O-O,Be2,c5,e5,Nc6,O-O,Qa5,Qd2,Rd8,Qe3,Bg4,Bb2,Qb6,Rab1,Bf5,dxc5,Qc7,Rbd1,Nxe5,Rxd8+,Rxd8,Rd1,Rxd1+,Bxd1,Nc4,Qe2,Nxb2,Qxb2,Qxc5,Qxb7,Bxc3,Bb3,Bf6,Qb8+,Kg7,h3,e5,Qb7,Qc1+,Kh2,Qf4+,Kg1,e4,Qxf7+,Kh6,Qxf6,exf3,Qf8+,Kh5,Qg7,Bxh3', 'Qxh7+,Kg5,Qxh3', 'https://lichess.org/training/7DJqe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7dN4r', 'Rapid', 'pawnsoffury2', 1665, 'PawnHunter', 1916, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f4,Bg7,e5,dxe5,fxe5,Nd5,e6,fxe6,Nxd5,Qxd5,Bb5+,Nc6,Nxc6,bxc6', 'Qxd5,exd5,Bxc6+', 'https://lichess.org/training/7dN4r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7DPRo', 'Rapid', 'cuniculus', 1765, 'farial', 1704, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Nxc6,bxc6,Bc4,d6,Bf4,Nf6,O-O,O-O,Re1,e5,Bd2,Bb7,a4,d5,exd5,cxd5,Bb3,e4,Bg5,Re8,Nxd5,Bxd5,Bxd5', 'Qxd5,Bxf6,Qxd1,Raxd1,Bxf6', 'https://lichess.org/training/7DPRo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Dq4t', 'Rapid', 'sparent98', 1648, 'Xardas9', 1636, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,d6,Bg5,h6,Bxf6,Qxf6,Bc4,Be7,O-O,O-O,a4,Qe5,f4', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/7Dq4t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Dy08', 'Rapid', 'Vla718', 1890, 'Skorceny23', 2104, 'g3,d5,Bg2,e5,c4,Be6,cxd5,Bxd5,Nf3,Nc6,d3,Nf6,O-O,Bc5,Nc3,Be6,Bg5,O-O,Bxf6,Qxf6,Ne4,Qe7,Nxc5,Qxc5,a3,f6,Rc1,Qd6,Qa4,a6,Nd2,Nd4,Rfe1,b5,Qd1,Rab8,e3,Nf5,Ne4,Qe7,Nc5,Bc8,Qb3+,Kh8,d4,Re8,Bc6,Rd8,d5,Nd6,e4,Nc4,Rxc4,bxc4,Qxb8,Qxc5,Qxc7,Qd6,Qxd6,Rxd6,Rc1,f5,Rxc4,fxe4,Rxe4,Kg8,Rxe5,Kf7,Re8', 'Rxc6,dxc6,Kxe8', 'https://lichess.org/training/7Dy08');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7dzjj', 'Rapid', 'PaulJack', 1802, 'mikhar', 1800, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nd2,d5,exd5,cxd5,Nf3,d4,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Bd6,Re1,f6,Qxd4,Ne7,Qd1,O-O,Be3,Nf5,Bd2,Rad8,Ba5,Rc8,Qd5+,Kh8,Rac1,Rc5,Qd2,Re8,Red1,Qa4,Bb4,Rc6,a3,Bxb4,axb4,Rd6,Qc3,Rc6,Qd3,e4,Qd7,Ra6,Qd8,exf3,Rd7,Rg8,Re1,Qxb4,c3,Qxb2', 'Qxg8+,Kxg8,Re8#', 'https://lichess.org/training/7dzjj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7e2xy', 'Classical', 'hm_odi', 1894, 'Molni', 1948, 'Nf3,d5,g3,Bf5,Bg2,e6,O-O,Nf6,d3,h6,Nbd2,Nc6,Re1,Bb4,a3,Bc5,e4,dxe4,dxe4,Bxe4', 'Nxe4,Nxe4,Qxd8+,Rxd8,Rxe4', 'https://lichess.org/training/7e2xy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7E3nZ', 'Classical', 'Gathen', 2124, 'masteramogh', 1931, 'e4,e5,Nc3,Nf6,f4,d6,Nf3,Nc6,Bb5,Bd7,O-O,Be7,d4,Nxd4,Nxd4,exd4,Qxd4,Bxb5,Nxb5,c6,Nc3,Qb6,Qxb6,axb6,b3,Nd7,Bb2,Bf6,Rad1,Ke7,a4,Nc5,Rfe1,Rhd8,e5,dxe5,Rxd8,Rxd8,b4,Ne6,fxe5,Bg5,Ne4,Bh6,Nd6,Rd7,b5,Nc5,Ba3,cxb5,axb5,Ke6,Nc4,Na4,Bd6,Kd5,Na3,Nc3,Bb4,Rc7,Bd6,Rc8,h3,f6,g4,fxe5,Bxe5,Re8', 'Bxc3,Rxe1+,Bxe1', 'https://lichess.org/training/7E3nZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7E6QI', 'Classical', 'ERUJEJE', 1776, 'ElPhysiciano', 1770, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Bd6,Nc4,Bd7,d4,Bb4+,c3,Be7,O-O,Nf6,Bg5,Nxe4,Bxe7,Qxe7,Qf3,O-O,Re1,Rae8,Nbd2,f5,Ne5', 'Nxd2,Qd3,Ne4', 'https://lichess.org/training/7E6QI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7E6VL', 'Rapid', 'DAN_1974', 1973, 'franquette', 2013, 'e4,Nf6,Nc3,e5,d3,Bb4,Bd2,O-O,a3,Ba5,b4,Bb6,Be3,Bxe3,fxe3,d5,exd5,Nxd5,Nxd5,Qxd5,Nf3,e4,dxe4,Qxe4,Qd3,Qe7,O-O-O,Nc6,Nd4,Ne5,Qc3,b6,Bb5,a5,Bc6,axb4,axb4,Nxc6,Nxc6,Qg5,Kb2,Be6,Nd4,Bg4,Ra1,c5,Nc6,cxb4,Nxb4,Rac8,Qd2,Rfd8,Nd3,Bf5,Rhf1,Qf6+,Kb1,Qg6,Ra3,Qd6,Kb2,Bg6,h3,Rc4,Rf4,Rdc8', 'Rxc4,Rxc4,Ra8+,Qf8,Rxf8+', 'https://lichess.org/training/7E6VL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ebT9', 'Rapid', 'hena22', 2058, 'retared', 1629, 'd4,f6,c4,Kf7,Nc3,e6,e4,g6,Nf3,Nc6,Be3,d6,a3,h5,Bd3,Bh6,O-O,Bxe3,fxe3,Qe7,b4,a6,Qb3,Nh6,e5,dxe5,dxe5,f5,e4,f4,c5,Rd8,Rad1,Ng4,Ne1,Kg7,Rxf4,Ncxe5,Be2,Rxd1,Nxd1,Qh4,h3', 'Qxe1+,Rf1,Qxe2', 'https://lichess.org/training/7ebT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7eCmo', 'Rapid', 'jjaraya', 1693, 'rachid76', 1676, 'd4,Nf6,Nf3,d5,Bf4,Nc6,e3,a6,c3,e6,Bd3,Bd6,Bg3,O-O,Nbd2,b5,e4,dxe4,Nxe4,Re8,Nxf6+,Qxf6,Bxd6,cxd6,O-O,e5,dxe5,Nxe5,Nxe5,Rxe5,Rc1,Bb7,f4,Re7,Qh5,h6,Qf5,Qxf5,Bxf5,Re2,Bh3,Rxb2,Rcd1,d5,Rfe1,Kf8,Bg4,Rxa2,Bf3,Rd8,Re5,Re8,Rxe8+,Kxe8,Bxd5,Bxd5,Rxd5,Ra3,Rc5,Ke7,Kf2,Kd6,Rc8,Kd5,g3,a5,h4,a4,Rc7,g6,Rxf7,Rxc3,Rg7,Rc5,Rxg6,Rc6,Rg8,a3,Ra8,b4,f5,b3,Rxa3,Rc2+,Ke3,b2,Rb3,Ke5,g4', 'Rc3+,Rxc3,b1=Q', 'https://lichess.org/training/7eCmo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7EEhk', 'Classical', 'mosevi53', 1647, 'berlinduvari0', 1659, 'e4,e6,Nh3,d5,exd5,exd5,Bb5+,c6,Ba4,Nf6,d3,Bc5,O-O,O-O,Nf4,Nbd7,d4,Bd6,Nh5,Re8,Bg5,Be7,Re1,b5,Bb3,Ba6,c3', 'Nxh5,Bxe7,Rxe7,Rxe7,Qxe7', 'https://lichess.org/training/7EEhk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7EEkP', 'Rapid', 'kingoflion', 2188, 'friedrich93', 1945, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,c5,c3,cxd4,exd4,Nc6,Bb5,Bd7,O-O,a6,Bxc6,Bxc6,Ne5,Bb5,Re1,Bd6,a4,Bc6,Nd2,O-O,Ndf3,Qc7,b4,Nd7,Qd3,f6,Nxd7,Qxd7,Bxd6,Qxd6,b5,axb5,axb5,Rxa1,Rxa1,Bd7,Nd2,Qb6,Rb1,Rc8,c4,dxc4,Nxc4,Bxb5,Qe2,Qa6,Rxb5,Qxb5', 'Qxe6+,Kf8,Qxc8+', 'https://lichess.org/training/7EEkP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7EEu9', 'Rapid', 'Dani-B', 1929, 'Griscsuk8', 2091, 'd4,e6,Bf4,d5,e3,Bd6,Bg3,f5,Qh5+,g6,Qd1,Nf6,Nf3,Ne4,Bxd6,Qxd6,c3,Nd7,Nbd2,O-O,h4,f4,Nxe4,dxe4,Ng5,fxe3,Nxe4,exf2+,Nxf2,Qf4,Qd2', 'Qxd2+,Kxd2,Rxf2+', 'https://lichess.org/training/7EEu9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7EM33', 'Rapid', 'nader_2050', 1630, 'Janbolat', 1747, 'e4,d6,Qf3,e5,Bc4,Nf6,d3,Be7,Qg3,O-O,Qe3,a6,h3,b5,Bb3,a5,a4,b4,g4,c5,g5,Nh5,Qe2,g6,h4,Bg4,Qxg4,Nc6,Be3,Nd4,Bxd4,cxd4,Bd5,Rc8,Nf3,Rxc2,b3', 'Rc1+,Kd2,Rxh1', 'https://lichess.org/training/7EM33');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7EMbk', 'Rapid', 'master_of_attack', 2134, 'CODE60', 2158, 'Nf3,d5,c4,c6,b3,Bg4,g3,Bxf3,exf3,d4,Bb2,c5,Bg2,Nf6,O-O,e6,d3,Be7,Na3,a6,Nc2,Nc6,a3,O-O,f4,Qc7,Qd2,Rad8,b4,b5,cxb5,axb5,bxc5,Bxc5,Rfc1,Qb6,Bxc6,Qxc6,Nxd4,Qb6,Nb3,Ne4,Qc2,Bxf2+,Kg2,Be3,dxe4,Bxc1,Rxc1,Qe3,Bd4,Rxd4,Nxd4,Qxd4,e5,h5,Rd1,Qe3,Qd3,Qc5,Rb1,Ra8,Rxb5,Qxa3', 'Rb8+,Rxb8,Qxa3', 'https://lichess.org/training/7EMbk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7eMCg', 'Blitz', 'GM thujer', 2700, 'FM TVEDAS', 2377, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Nbd7,Qe2,Qc7,f5,e5,Nd5,Nxd5,exd5,h6,Ne6,fxe6', 'Qh5+,g6,Qxg6#', 'https://lichess.org/training/7eMCg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7eMOt', 'Blitz', 'Yallesh25', 1562, 'dotgh33', 1612, 'e4,d6,d4,Nf6,Nf3,Nxe4,Bd3,Nf6,O-O,g6,Nc3,Bg7,Bg5,Bg4,Be2,Qd7,d5,h6,Bd2,Na6', 'Bb5,c6,dxc6,bxc6,Bxa6', 'https://lichess.org/training/7eMOt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7EMpk', 'Rapid', 'TahsinPasha', 1806, 'dodntvjd', 1797, 'e4,c5,Nf3,e6,c4,Nc6,Nc3,a6,d4,cxd4,Nxd4,d6,Be3,Nf6,f3,Be7,Nxc6,bxc6,Be2,Bb7,O-O,d5,cxd5,cxd5,Qa4+,Qd7,Qxd7+,Kxd7,e5,Ne8,Na4,Rb8,Rac1,Bc6,Ba7,Rb7,Nb6+,Kc7,Na8+,Kd8,Bb6+,Kd7,Rxc6,Kxc6,Rc1+,Kd7,Bxa6,Rb8', 'Bb5#', 'https://lichess.org/training/7EMpk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7eoTs', 'Blitz', 'Limon07', 1779, 'Slonn', 1764, 'e4,e5,Nf3,Nc6,Nc3,Bc5,a3,d6,b4,Bb6,Bb2,a6,Nd5,Nf6,Nxb6,cxb6,b5,Na5,d4,O-O,dxe5,Nxe4,exd6,Qxd6,Bd3,Re8,O-O,Bg4,h3,Bxf3,Qxf3,Nc5,Qg4,f6,Rad1,Nxd3,Rxd3,Qe6,Qxe6+,Rxe6,bxa6,bxa6,Rd7,Nc4,Bd4,b5,Rd1,Rae8,Be3,Nxa3,c4,Nxc4,Ra7,Nxe3,fxe3,h6,Rdd7,Kh7,Rxg7+,Kh8,Rh7+,Kg8,Rhg7+,Kf8', 'Raf7#', 'https://lichess.org/training/7eoTs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ER9n', 'Rapid', 'dane-se', 1578, 'Pomidorka357', 1576, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,Qd2,Nf6,O-O-O,O-O,Be2,a5,Bh6,a4,a3,Bd7,h4', 'Nxd4,Bxg7,Nxe2+,Qxe2,Kxg7', 'https://lichess.org/training/7ER9n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7eRzx', 'Blitz', 'ProdigyYoung', 1648, 'airforceusb', 1636, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Nc6,c4,Nf6,Nc3,e6,c5,Be7,Bc4,Nd5,O-O,O-O,Ne5,Nxc3,bxc3,Nxe5,dxe5,Bxc5,Bb2,Qh4,Bb3,b6,Qf3,Rb8,Ba4,Bb7,Bc6,Ba6,Rfe1,Rbd8,Re4,Qg5,Rae1,Qd2,Bc1,Qxa2,Bh6,gxh6', 'Rg4+,Kh8,Qf6#', 'https://lichess.org/training/7eRzx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7EUUs', 'Blitz', 'groseddy', 1582, 'Papayou', 1629, 'd4,Nf6,e3,e6,Nf3,d5,Nc3,Bb4,Bd2,O-O,a3,Ba5,Bd3,Nbd7,Qe2,c5,e4,c4,Bxc4,dxc4,Qxc4,Bc7,e5,Ne8,h4,a6,Qd3,b5,g4,Nb6,g5,Nd5,h5,Bb7,g6,fxg6,hxg6,h6,Bxh6,gxh6,Rxh6,Nf4,Qe3,Ng7,O-O-O,Bxf3,d5,Nxd5,Nxd5,exd5,Rd4,Bb6', 'Rh8+,Kxh8,Qh6+,Kg8,Qh7#', 'https://lichess.org/training/7EUUs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Evkw', 'Rapid', 'Tenpointfive', 1840, 'gvd', 1831, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,Bb4,Bd3,Nf6,Bg5,h6,Bxf6,Qxf6,a3,Bxc3+,bxc3,d5,e5,Qe7,O-O,Nd7,c4,c5,cxd5,Bxd5,c4,Bb7,d5,exd5,cxd5,Bxd5,Bb5,Bxf3,Qxf3,O-O,Qb7,Rfd8,Rad1,Rab8,Qxa7,Ra8,Qb7,Rab8,Qc7,Qxe5', 'Rxd7,Qxc7,Rxc7', 'https://lichess.org/training/7Evkw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7EW2x', 'Classical', 'HRunthla', 1775, 'johndoe1911', 1722, 'd4,Nf6,Bg5,e6,e4,c6,e5,Qa5+,Nc3,Ne4,Bd2,Nxd2,Qxd2,c5,Nge2,cxd4,Qxd4,Bc5,Qg4,O-O,g3,Nc6,f4,Nd4,Nxd4,Bxd4,Bd3,Bxc3+,bxc3,Qxc3+,Kf2,Qc5+,Ke2,b6,Rab1,Bb7,Rhf1,Rac8,f5,Bd5,f6,g6,h4,Bc4,Bxc4,Qxe5+,Kd2,Qd6+,Bd3,Qc6,h5,Qc3+,Kd1,Kh8,hxg6,fxg6,f7,Qg7,Qf4,Rc5,Rb5,Qa1+,Kd2,Qc3+,Ke2,Rxb5,Bxb5,Qxc2+,Qd2,Qe4+,Kd1', 'Qb1+,Qc1,Qxb5', 'https://lichess.org/training/7EW2x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ex8T', 'Blitz', 'FM komis1987', 2125, 'northernbirds', 2268, 'd4,d6,Nc3,a6,e4,b5,Bf4,Bb7,Bd3,Nd7,Qe2,c5,dxc5,Nxc5,Nf3,Nxd3+,Qxd3,Nf6,O-O-O,b4,Nd5,Qa5,Kb1,Nxd5,exd5,g6,Qd4,Rg8,Bxd6,exd6,Rhe1+,Kd8', 'Qf6+,Kc7,Qxf7+,Kb6,Qxg8', 'https://lichess.org/training/7ex8T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7F3DR', 'Rapid', 'jesuachov', 2100, 'samueldg', 2215, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,a3,a6,Be2,Qc7,O-O,Be7,Be3,O-O,Qd2,d6,Rad1,Rd8,Kh1,Bd7,f4,Rac8,Nf3,b5,Bd3,Be8,Ne2,e5,c4,bxc4,Bxc4,Nd4,Rc1,Nxf3,Rxf3,Nxe4,Qd3,Nc5,Qf5,a5,b4,axb4,axb4,g6,Qh3,Ne4,Bxf7+,Bxf7,Rxc7,Rxc7,fxe5,dxe5,Rf1,Bxb4,Qf3,Nd6,Bg5,Rdc8,Ng3,e4,Nxe4,Nxe4,Qxe4,Bf8,Bf4,Re7,Qd3,Bc4,Qc3,Bxf1,Qxc8,Re1,Bd2', 'Ba6+,Bxe1,Bxc8', 'https://lichess.org/training/7F3DR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7f74J', 'Rapid', 'soltanloveall', 1652, 'Nemi1', 1658, 'g3,b6,Bg2,c6,d4,Bb7,c4,b5,cxb5,Qa5+,Nc3,e6,Bd2,Bb4,bxc6,Nxc6,Qb3,Rb8,e3', 'Nxd4,exd4,Bxg2', 'https://lichess.org/training/7f74J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7F79F', 'Rapid', 'ChessNik2012', 1613, 'reinhardtanning', 1538, 'e4,d6,d4,Nf6,Nc3,c6,Nf3,Qa5,Bc4,Nxe4,Bd2,Nxc3,Bxc3,Qc7,O-O,Bg4', 'Bxf7+,Kxf7,Ng5+,Kg8,Qxg4', 'https://lichess.org/training/7F79F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7F7YO', 'Rapid', 'Susscrofa', 1721, 'Olej_Kujawski', 1819, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,Nc3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,f4,Nf6,h3,a6,g4,Nxd4,Bxd4,h6,g5,hxg5,fxg5,Nh5,Bxg7,Nxg7,Qd4,Kf8,O-O-O,Rxh3,e5,Ne6,Qg4,Rxh1,Rxh1,Kg7,Rd1,Rh8,exd6,exd6,Nd5,Rh5,Nf4,Rxg5', 'Nxe6+,Qxe6,Qxg5', 'https://lichess.org/training/7F7YO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7FBZh', 'Classical', 'SANTIAGO2019', 2103, 'H3nkka', 2171, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,Be3,b5,a3,Bb7,Bf3,Nbd7,O-O,O-O,Nd5,Nxd5,exd5,f5,g3,e4,Bg2,Nf6,Qd2,Nxd5,Na5,Nxe3,Nxb7,Nxf1', 'Qd5+,Kh8,Nxd8', 'https://lichess.org/training/7FBZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7fc8t', 'Rapid', 'wojmiel97', 1612, 'Artem_leonidovich', 1741, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Bg5,Bxf2+,Kxf2,Nxe4+,Ke1,Nxg5,Qe2+,Be6,Nc3,Qd7,h4,O-O-O,hxg5,Rhe8,Qf2,Bg4+,Kd2,Qe7,Re1,Qxg5+,Re3,Rd7,Be2,Bxe2,Qxe2', 'Rxe3,Qxe3,Qxg2+,Ne2,Qxh1', 'https://lichess.org/training/7fc8t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7fEyw', 'Rapid', 'Mayky213', 1849, 'checkmonk', 1919, 'd4,Nf6,e3,d5,Bd3,Bg4,Ne2,Nbd7,h3,Bh5,f4,e6,O-O,c5,c3,Nb6,Nd2,Be7,Kh1,Nc8,Rg1,c4,Bc2,Nd6,Qe1,Bg6,Bxg6,hxg6,Ng3,Ng4,e4,dxe4,Ngxe4,Bh4,Qe2,Nf6,Nxd6+,Qxd6,Nxc4,Qd8,Ne5,Nd5,Qb5+,Kf8,Kh2,Bg3+,Kxg3,Qh4+,Kh2,Nxf4,Qxb7', 'Qxh3+,gxh3,Rxh3#', 'https://lichess.org/training/7fEyw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7fif7', 'Classical', 'aharwn', 1892, 'Aghazade1987', 1893, 'e4,e5,g3,Nc6,a3,Nf6,Bg2,Bc5,Ne2,d6,O-O,Bg4,Nbc3,Nd4,Kh1,c6,f3,Bh5,Na4,Nxe2,Qxe2,Bb6,Nxb6,axb6,g4,Bg6,h4,h6,d3,c5,Bd2,O-O,Bh3,Nh7,h5,Qh4,Qg2,Ng5,Bxg5,Qxg5,hxg6,Qxg6,Rg1,f6,Qg3,Kf7,Rg2,Rh8,Rh2,Rh7,Qh4,h5,g5,fxg5,Qf2,Rah8,Bf5,Qf6,Bxh7,Rxh7,Rg1,b5,Rhg2,g4,fxg4', 'hxg4+,Rh2,Qxf2', 'https://lichess.org/training/7fif7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Fiyb', 'Rapid', 'promiscuo', 1659, 'Karpov5656', 1657, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Bb5,Bd7,O-O,Qb6,Bxc6,bxc6,c3,cxd4,cxd4,c5,b3,cxd4,Nxd4,Bc5,Bb2,Ne7,Nd2,Nc6,N2f3,O-O,a3,a5,Qd3,h6,Rac1,Nxd4,Nxd4,Rab8,Rxc5,Qxc5,Re1,Bb5,Qg3,a4,Rc1,Qb6,Rc3,axb3,Rxb3,Qa6,Bc1,Bc4,Bxh6,g6,Bxf8,Bxb3,Bd6,Qc4,h3,Qxd4,Bxb8,Qa1+,Kh2,Qxa3,Bd6,Qa4,Qg5,Qa8,Be7,Qe8,h4,Bc2,h5,Kh7,Qf6,gxh5,Bb4,Bf5,Bd2,Qf8,Qh4,Bg6,f3,Kg8,g4,hxg4,Bh6,Qb8', 'Qf6,Qf8,Bxf8', 'https://lichess.org/training/7Fiyb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7fk7B', 'Rapid', 'diomisero', 1886, 'sikandarnaeem', 1887, 'e4,e6,e5,d5,exd6,Bxd6,d4,Nf6,Nf3,b6,Bd3,Bb7,O-O,Nbd7,Re1,c5,Bg5,Qc7,Nc3,a6,Ne4,Nxe4,Bxe4,Nf6,Bxb7,Qxb7,Bxf6,gxf6,d5,O-O-O,dxe6,Bxh2+,Kxh2,Rxd1,Raxd1,Qc7+,Kh1,Re8,Rd7,Qc6', 'exf7,Rxe1+,Nxe1,Kxd7,f8=Q', 'https://lichess.org/training/7fk7B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7fLcn', 'Rapid', 'KnyazSa', 1856, 'Negazuy', 1840, 'd4,Nf6,c4,e6,Nf3,d5,g3,c5,cxd5,Nxd5,Bg2,Nc6,O-O,Qb6,e4,Nc7,Nc3,cxd4,Na4,Qb4,a3,Qd6,Re1,e5,Nh4,g6,Bd2,b5,Rc1,bxa4,Qxa4,Bd7,Bf1,a6,Rc2,Na7,Qc4,Rc8,Nf3,Be6,Qa4+,Ncb5,Rxc8+,Bxc8,Bb4,Qc6,Nxe5,Qb7,Rc1,f6,Nd3,Kf7,Nc5,Bxc5,Rxc5,Qxe4,Qb3+,Be6,Bc4,Bxc4,Qxc4+,Kg7,a4,Qb1+,Kg2,Qe4+,f3,Qb1,axb5,Qxb2+,Kh3,Nxb5,Rc6,Qf2,Rxa6,h5,Qxb5,Rd8,Ra7+,Kh6,Qb7', 'Qf1+,Kh4,g5#', 'https://lichess.org/training/7fLcn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Fll5', 'Rapid', 'NathanEricMcDonald', 1705, 'ramindelta', 1650, 'e4,e5,d4,Nc6,dxe5,Nxe5,f4,Nc6,Nf3,Nf6,e5,Ng8,Bc4,d6,Bxf7+,Kxf7,O-O,Bg4', 'Ng5+,Ke8,Qxg4', 'https://lichess.org/training/7Fll5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7foEF', 'Rapid', 'aguinaldosurdi', 1713, 'inigonik', 1747, 'd4,c5,e3,d5,c4,Nf6,Nc3,Bf5,h3,Nc6,a3,a5,cxd5,Nxd5,e4,Nxc3,bxc3,Bxe4,Nf3,e6,Bb5,Be7,O-O,O-O,Be3,cxd4,cxd4,Qc7,Ng5,Bd5,f4,Bd6,a4,Ne7,Rc1,Qb8,Qd3,Nf5,g4,g6,gxf5,exf5,Bc4,Bc6,d5,Bxa4,Ra1,b5,Bb3,Bxb3,Qxb3,a4,Qb2,Qb7,Rfd1,b4,Rd4,a3,Qb3,Rab8,Bd2,Qc7,Bxb4,Bxf4,d6,Qd8,Rxf4', 'Qxg5+,Kh1,Qxf4', 'https://lichess.org/training/7foEF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7fP6w', 'Classical', 'redpointer', 1915, 'CEAJE', 1836, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nf6,d4,exd4,cxd4,Nxd4,Nxd4,Nxe4,O-O,Qh4,Be3,O-O,Nf5,Qf6,Bxc5,Nxc5,Ng3', 'Qxb2,Nc3,Qxc3', 'https://lichess.org/training/7fP6w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7FpkU', 'Rapid', 'PAIDEIAIII', 2048, 'DarkSoldier509', 2071, 'e4,c5,d4,cxd4,c3,d3,Bxd3,Nc6,Nf3,e5,O-O,Nf6,b4,a6,Na3,Be7,Nc4,d6,Bg5,O-O,Ne3,h6,Bh4,Be6,Bc2,Rc8,Bxf6,Bxf6,Bb3,Qe7,Bxe6,Qxe6,Nd5,Ne7,Nxf6+,Qxf6,Qd3,Rfd8,Rac1,d5,a4,dxe4,Qxe4,Ng6,Qxb7,Nf4,Rc2,Qg6,Ne1,Rxc3', 'Rxc3,Ne2+,Kh1,Nxc3,Qc7', 'https://lichess.org/training/7FpkU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7FrBN', 'Rapid', 'sevenchanger1986', 1772, 'andychem70', 1734, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,a6,Nf3,e6,Bc4,Nc6,O-O,d6,Bf4,Be7,Qe2,b5,Nxb5,axb5,Bxb5,Bd7,Rac1,Rc8,Qc2,Nf6,e5,Nxe5', 'Bxd7+,Nexd7,Qxc8', 'https://lichess.org/training/7FrBN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7FrhY', 'Rapid', 'dfcbkmtdbx60', 2009, 'Jagoda64', 1944, 'd4,e6,c4,d5,Nc3,dxc4,e3,c6,Bxc4,Ne7,Nf3,Ng6,O-O,Be7,e4,O-O,e5,b5,Bd3,Bb7,Ne4,Na6,Be3,Nb4,Bb1,Nd5,Bd2,Rc8,Bd3,Ngf4,Bc2,a6,g3,Ng6,Bd3,c5,Nxc5,Bxc5,Bxg6,hxg6,dxc5,Rxc5,Bb4', 'Nxb4,Qxd8,Rxd8', 'https://lichess.org/training/7FrhY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7FTMf', 'Blitz', 'Erich_Douglas', 1698, 'ABGudi', 1692, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,dxc4,e4,b5,h3,Bb7,a3,e6,Be3,Be7,Be2,O-O,O-O,Nbd7,Nd2,c5,d5,exd5,exd5,b4,Nb5,Nxd5,Nxc4,Nxe3,Nxe3,Bf6,Qd2,Ne5,Qxd8,Rfxd8,axb4,a6,Nc3,cxb4,Na4,a5,Nb6,Ra7,Nec4,Nxc4,Bxc4,g6,Rad1,Rxd1,Rxd1,Bxb2,Rd7,b3,Bxb3,a4,Ba2,a3,Rxf7,Kh8,Nc8,Ra8,Rxb7,Rxc8,g3,Rc1+,Kg2,Ra1,Bb3,Bd4,g4,Rb1,g5,a2', 'Rb8+,Kg7,Rg8#', 'https://lichess.org/training/7FTMf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7FXg3', 'Classical', 'Lil_Hoss', 1636, 'bartheyrman', 1690, 'Nf3,e5,Nxe5,d6,Nf3,Nc6,g3,Nf6,Bg2,Bg4,O-O,Qd7,Nc3,O-O-O,d4,h5,a4,d5,Bg5,Be7,a5,Ne4,Bxe7,Qxe7,Qd3,Nb4,Qd1,Rh6,Re1,Rdd6,Ne5,f6,Nxg4,hxg4,Nxe4,dxe4,c3,Nd5,Qc2,f5,f3,exf3,exf3,Ne3,Qxf5+', 'Nxf5,Rxe7,Nxe7', 'https://lichess.org/training/7FXg3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Fz5B', 'Rapid', 'Akimych', 1829, 'stchavez', 1945, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Bg5,e5,Nf3,Be7,h3,Be6,Bxf6,Bxf6,Nd5,Bxd5,Qxd5,Nc6,a3,g6,Bc4,O-O,O-O,Rc8,Rad1,b5,Bb3,Be7,c3,Na5,Ba2,Rc5,Qd2,Nb7,Qh6,Rc6,h4,Nc5,Ng5,Bxg5,hxg5,Nxe4,Qh4,Nxg5,f3,Kg7,Kf2,h6,Rh1,h5,Bd5,Rc5,Rd3,f6,b4,Rc8,Rhd1,Qb6+,Kf1,Rfd8,g4,hxg4,Qxg4,Rh8', 'Qd7+,Kf8,Qxc8+', 'https://lichess.org/training/7Fz5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7FZeR', 'Rapid', 'Azerik', 1677, 'olegrun', 1784, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bc4,Qe7,Nc3,Nf6,O-O,O-O,Bg5,h6,Bh4,d6,h3,g5,Bg3,Nxe4,Re1,Bf5,Nxe4,Bxe4,Kh1,d5,Bd3,Qf6,Bxe4,dxe4,Rxe4,Rad8,Qe2,Bd6,c3,c5,Be5,Qg6,f4,f6,Qc4+,Kh7,Bxd6,cxd6,Qd5,g4,f5,Qg5,Rxg4,Qe3,Rf1,Rg8,Qf7+,Kh8,Qxf6+,Kh7,Qf7+,Kh8,Rxg8+,Rxg8,Qf6+,Kh7,Rf3,Qe5,Qf7+,Rg7,Qh5,Qe1+,Kh2,Qe5+,Kg1,Rg5,Qf7+,Rg7,Qf8,Qe1+,Rf1,Qe3+,Kh1,Qg5,Rf2,Qg3,f6,Rc7,f7,d5,Qxh6+,Kxh6,f8=Q+,Rg7,Qf6+,Rg6,Qh8+,Kg5,Re2,Rf6,Qg7+,Rg6,Re5+', 'Kf4,Qxg6,Qxg6', 'https://lichess.org/training/7FZeR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7g035', 'Classical', 'ameben', 1754, 'Obare5678', 1768, 'e4,e5,Nf3,Nc6,Bb5,Bc5,c3,Nge7,O-O,a6,Ba4,d6,h3,O-O,d4,exd4,cxd4,Ba7,Nc3,Bd7,Bc2,h6,Be3,Nb4,Bb3,Nbc6,a3,Na5,Bc2,Nc4,Bc1,Re8,Bd3,Nb6,Be3,d5,e5,Bf5,Qd2,Bxd3,Qxd3,Nc4,Bc1,Ng6,b3,Na5,Rb1,c6,Re1,Nf8,Bd2,b5,Ne2,Nb7,Ng3,Ne6,Nf5,h5,h4,g6,Ng3,Qe7,Ng5,Qxa3,Qf3,Nxg5,Bxg5,Bxd4,Qf6,Re6,Qf4,Bc5,Bf6,Be7,Qh6,Bxf6,exf6,Rxf6', 'Nxh5,gxh5,Qxf6', 'https://lichess.org/training/7g035');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7g2CP', 'Bullet', 'utkarsh2412', 1796, 'helbertfx', 1782, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,Re1,Nbd7,c3,c6,d4,Qc7,Bg5,O-O,Nbd2,h6,Bxf6,Nxf6,Nf1,b5,Bb3,a5,a3,Rb8,Ng3,b4,Nf5,Bxf5,exf5,e4,Nd2,d5,c4,bxa3,bxa3,Qb6,c5,Qc7,Bc2,Qf4,f3,e3,Nf1,Bd8,g3,Qg5,Nxe3,Bc7,f4,Bxf4,Ng2,Bc7,Qf3,Rb2,Bd3,Re8,Rxe8+,Nxe8,h4,Qf6,g4,Qxd4+,Kh1,Nf6,Rd1,Qxc5,g5,Ne4,Bxe4,dxe4,Qxe4,Qf2,Qe8+,Kh7', 'g6+,fxg6,fxg6#', 'https://lichess.org/training/7g2CP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7g3Td', 'Rapid', 'Yerkebulan', 1647, 'gabi666', 1777, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,g6,O-O,Bg7,h3,O-O,Be3,Nc6,Nxc6,bxc6,Re1,Nd7,a3,Bxb2,Ra2,Bg7,Nd2,a5,Nb3,c5,Qd2,a4,Nc1,Rb8,Ne2,Nb6,c3,Be6,Rb2,Bc4,Bxc4', 'Nxc4,Rxb8,Qxb8', 'https://lichess.org/training/7g3Td');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7g8sw', 'Rapid', 'ruhadam2017', 1752, 'magnus4747', 1787, 'e4,g6,d4,Bg7,Nf3,e6,Nc3,d5,e5,Nc6,Bb5,Bd7,O-O,a5,Bg5,f6,Bh4,Nh6,h3,Nf5,exf6,Bxf6,Bg3,Nxg3,fxg3,O-O,Bxc6,Bxc6,a4,Bd7,Ne2,b5,b3,b4,c3,Qe7,Ne5,Be8,c4,dxc4,bxc4,c5,Nf3,Rd8,Ra2,e5,d5,e4,Nh2,Rb8,Qb3,Qd6,Rf4,Bd4+,Kh1,Rxf4,gxf4,Bd7,h4,Rf8,g3,Bf5,Nf1,Bg4,Ne3,Bf3+,Kg1,Qd7,Kh2,g5,hxg5,Bxe3,Qxe3,Qg4,Ng1,Qh5+,Nh3,Bg4,Kg1,Qxh3', 'Rh2,Qxh2+,Kxh2', 'https://lichess.org/training/7g8sw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7GAkp', 'Rapid', 'stalleyonly', 1812, 'Spacelobster', 1778, 'e4,Nc6,Nf3,e5,Bc4,h6,Nc3,d6,O-O,Nf6,d4,Qe7,dxe5,Nxe5,Nxe5,Qxe5,f4', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/7GAkp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7GApE', 'Classical', 'crardawgs', 1915, 'Maindresser', 1988, 'd4,Nf6,Bf4,d6,Nf3,Nbd7,e3,g6,c3,Bg7,Bd3,O-O,Nbd2,c5,h3,a6,O-O,b5,Bh2,Bb7,Rb1,Rc8,Re1,Re8,e4,c4,Bc2,e5,d5,Qb6,a3,Nc5,Ng5,h6,Ngf3,Re7,Nh4,a5,Kh1,Rce8,Bg1,Qc7,Qf3,Kh7,Re3,Na6,Rc1,b4,Ba4,bxa3,bxa3,Rc8,Bb5,Nc5,Bxc4,Nfxe4,Nxe4,Nxe4,Qxe4', 'Qxc4,Qxc4,Rxc4', 'https://lichess.org/training/7GApE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Gc9l', 'Blitz', 'Thesis7', 2005, 'WCM cibae', 1897, 'e4,c5,Nc3,Nc6,f4,g6,Nf3,Bg7,Bc4,d6,Bb5,Bd7,Bxc6,bxc6,d3,Nf6,O-O,O-O,e5,Nd5,Ne4,Qc7,c4,Nb6,Qe1,Rfe8,Qh4,f6,exf6,exf6,Nxf6+,Bxf6,Qxf6,Bf5,Ng5,Rf8,Qc3,h6,b3,hxg5,Bb2,Qh7,Rf3,gxf4,Rxf4,Rae8', 'Rh4,Re7,Rxh7', 'https://lichess.org/training/7Gc9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7GE9h', 'Rapid', 'Pidinou', 1601, 'Max_ime', 1638, 'd4,e6,e4,c6,c4,d5,cxd5,cxd5,exd5,Qxd5,Nc3,Qa5,Bd2,Qf5,Nf3,Nf6,Be3,Be7,Bd3,Qa5,O-O,O-O,Ne4,Nxe4,Bxe4,Qb6,b3,Nc6,d5,exd5,Bxb6,dxe4,Nd4,axb6,Nxc6,bxc6,Qe2,Ba6,Qxe4,Bxf1,Kxf1,Rfe8,Qxc6,Bc5,Re1,Rec8,Qd7,Rd8,Qf5,g6,Qg5,Bb4,Rc1', 'Bd2,Qxd8+,Rxd8', 'https://lichess.org/training/7GE9h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7GFay', 'Rapid', 'Pionvert', 1826, 'girnizabar', 1788, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,Nc3,Na5,d4,exd4,Qxd4,Nxb3,axb3,O-O,Nxb5,Bb7,Nc3,c5,Qd3,Re8,Bg5,Qc7,Bf4,Nh5,Be3,Nf6,Nd5,Nxd5,exd5,Bf6,c4,Bxb2,Ra2,Bf6,Rae2,Kf8,Bg5,Rxe2,Rxe2,Bxg5,Qxh7,f6,Qh8+,Kf7,Nxg5+,fxg5,Qh5+,Kg8,Qxg5,Rf8', 'Re7,Qxe7,Qxe7', 'https://lichess.org/training/7GFay');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7GFTf', 'Rapid', 'swiftlee', 1712, 'SvinoGorl', 2171, 'e4,c6,Nf3,d5,exd5,cxd5,b3,Nc6,Bb2,Bg4,d4,e6,Nbd2,Bd6,Bb5,Qc7,Bxc6+,bxc6,h3,Bh5,Qe2,Ne7,c4,Ng6,c5,Be7,g4,Nf4,Qe5,Qxe5+,Nxe5,Bg6,Ndf3,Be4,Bc1,Nd3+,Nxd3,Bxf3,Rh2,f6,Nb4,Kd7,Na6,h5,gxh5,Rxh5,Bf4,Rah8,Nb8+,Rxb8,Bxb8,a5,Kd2,f5,Rg1,Bg5+,Kc3,Bh6,Rg3,Be2,b4,a4,Rhg2,f4,Bxf4,Bxf4,Rxg7+,Kc8,Rf7', 'Rxh3+,Kc2,Bd3+,Kb2,a3+', 'https://lichess.org/training/7GFTf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Ggie', 'Rapid', 'AlexCatcher', 1904, 'touhu', 1945, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Nxf7,Bxf2+,Kxf2,Nxe4+,Ke3,Qh4,Qf3,Nd4,Qxe4,Qh5,Nxh8,d5,Qxd5,Qg5+,Kd3,Bf5+,Kc3,Be6,Qxb7,Qd8,Bb5+,Ke7,b3,Rb8,Qa6,Nxb5+,Kb2,Rb6,Qa4,Nd4,Nc3,Bf5,d3,Nxc2,Kxc2,Qxd3+,Kb2,Qc2+,Ka3,Qxc3,Bb2', 'Qc5+,b4,Qe3+,Bc3,Qxc3+,Qb3,Ra6#', 'https://lichess.org/training/7Ggie');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7GIk6', 'Blitz', 'safkhet', 1753, 'Sir-Abo', 1821, 'b4,d5,Bb2,Nf6,e3,Nc6,a3,e5,b5,Na5,Bxe5,Bd6,Bc3,Nc4,Ne2,Be5,Ng3,Bxc3,Nxc3,O-O,Bd3,Nb2,Qf3,Nxd3+,cxd3,Re8,Nh5,Nxh5,Qxh5,d4,Ne4,dxe3,O-O,Qxd3,Ng5,exd2', 'Qxf7+,Kh8,Qxe8#', 'https://lichess.org/training/7GIk6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gIld', 'Rapid', 'blindchesstbg', 1988, 'danilishin', 2001, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be2,Be7,O-O,a6,a4,b6,Bg5,Bb7,Re1,Nbd7,Bf3,O-O,g3,h6,Be3,Nc5,e5,Bxf3,Qxf3,dxe5,Nc6,Qc7,Nxe7+,Qxe7,Rad1,Rfd8,a5,e4,Bxc5,Qxc5,Nxe4,Nxe4,Qxe4,Rxd1', 'Qxa8+,Kh7,Rxd1', 'https://lichess.org/training/7gIld');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gj4H', 'Classical', 'alsaran', 1699, 'fr3131', 1702, 'e4,c5,d4,cxd4,c3,dxc3,Bc4,cxb2,Bxb2,Nc6,Nf3,e6,O-O,Nf6,Re1,d5,exd5,Ne7,Qa4+,Bd7,Bb5,Nexd5,Bxd7+,Qxd7,Qh4,Be7,Ne5,Qb5,Bd4,Nd7,Qh5,Nxe5,Qxe5,Qb4,Bc3,Nxc3,Nxc3,O-O,Rab1,Bf6', 'Rxb4,Bxe5,Rxe5', 'https://lichess.org/training/7gj4H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gjaL', 'Rapid', 'fawyfawy10', 2058, 'Randaliwi', 2126, 'e3,d5,Ne2,e5,Ng3,Bd6,Be2,c6,Bg4,Nf6,Bxc8,Qxc8,Nh5,Nxh5,Qxh5,Qe6,Nc3,Nd7,d3,Nf6,Qd1,Bb4,Bd2,d4,exd4,exd4+,Ne2,Bxd2+,Qxd2,O-O-O,O-O,h5,Rae1,Qd6,Qg5,Ng4,Ng3,f6,Qf5+,Kb8,Re6,Qc7,h3,g6,Qe4,Ne5,Rxf6,Qe7,Qf4,g5,Qxg5,Nd7,Qf4+,Ka8,Rf7,Qe6,Ne4,Rdg8,Kh2,Qg6,g3,Nb6,Qc7,Rb8,Nc5,Nd5,Qd7,h4,g4,Rhd8,Qf5', 'Qd6+,Kh1,Qxc5', 'https://lichess.org/training/7gjaL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7GjCg', 'Blitz', 'CM DanielBol2003', 2345, 'dalecarpio', 2426, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Nd5,Be7,Bxf6,Bxf6,c3,Bg5,h4,Bh6,Nc2,O-O,g4,Bf4,g5,Be6,Nxf4,exf4,Qd2,Ne5,Qxf4,Bg4,Ne3,Bf3,Rh3,Bh5,Nd5,Rb8,Be2,Bxe2,Kxe2,b4,cxb4,a5,h5,Qd7,h6,Qxh3', 'Ne7+,Kh8,hxg7+,Kxg7,Qf6#', 'https://lichess.org/training/7GjCg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gJJQ', 'Rapid', 'Ahmed_El_Shahawy', 1611, 'Turkisblue', 1700, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Qxd4,Bd7,Qd5,Nge7,Qd1,Nd5,exd5,Ne5,Bxd7+,Nxd7,O-O,Be7,Re1,O-O,Qd3,Bf6,h4,Nc5,Qf5,g6,Qh3,Re8,Rxe8+,Qxe8,Bg5', 'Bxb2,Nbd2,Bxa1', 'https://lichess.org/training/7gJJQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gJKl', 'Rapid', 'NextEpisode', 2139, 'Jagoda64', 2084, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,a6,Nc3,Ne7,Be3,Ng6,a3,Be7,f4,O-O,Bd3,Nc6,Nxc6,bxc6,Qf3,d5,exd5,cxd5,Bd4,f5,O-O,Rb8,Rae1,Bf6,Qe3,Qd6,Bc5,Qd7,Bxf8,Nxf8,Nd1,Bh4,g3,Bd8,Kh1,Bb6,Qe2,Bb7,Bxa6,d4+,Bxb7,Qxb7+,Qg2,Qc7,c3,dxc3,Nxc3,Bd4,Rc1,Qa5,Rfd1,Bf6,Rd2,Rc8,Rdc2,Rb8,Qd2,Qa8+,Qg2,Qa6,Nd1,h6,Ne3,Bd4,Nc4,Qb5,Ne5,Bxe5,fxe5,Qxe5,Qe2,Qd5+,Qg2,Qd4,Qc6,Rxb2,Rxb2,Qxb2,a4,Qa3,Rc3,Qa1+,Rc1,Qa3,Re1,Qa2,Qb5,Qd2,Rb1,Qf2,a5,Qf3+,Kg1,Qe3+,Kf1,Ng6,a6,Ne5,a7,Nf3,a8=Q+,Kh7,Qe2', 'Qg1#', 'https://lichess.org/training/7gJKl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7GNUU', 'Rapid', 'ensar93', 1820, 'jhunchess21', 1901, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,e6,O-O,Nf6,Bf4,Be7,Qe2,O-O,Rfd1,Qa5,Rac1,a6,a3,b5,Ba2,Bb7,Bxd6,Bxd6,Rxd6,b4,axb4,Nxb4,Bb3,h6,Na4,Bxe4', 'Rc5,Qd8,Rxd8', 'https://lichess.org/training/7GNUU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gP4C', 'Blitz', 'NM oberschlumpf', 2306, 'Tirth712', 2037, 'd4,g6,c4,Bg7,Nc3,c5,Nf3,cxd4,Nxd4,d6,e3,Nf6,Be2,O-O,O-O,Nc6,Nxc6,bxc6,Bf3,Bd7,Qc2,Rb8,Rb1,Qa5,b3,d5,cxd5,Nxd5,Nxd5,cxd5,Bd2,Rfc8', 'Qxc8+,Rxc8,Bxa5', 'https://lichess.org/training/7gP4C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gryY', 'Blitz', 'FM Strelok2222', 2429, 'salehbind', 1815, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,cxd4,cxd4,Nc6,Ne2,Qb6,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,a5,O-O,Qb4,Qf4,Qxb2,Ng5,Rf8,Nxh7,Rh8,Ng5,Rf8,a3,Qb6,Rfb1,Qd8,h4,Qe7,Ng3,a4,Nh5,f6,Bg6+,Kd8,exf6,Nxf6,Nxf6', 'Rxf6,Qe3,Rxg6', 'https://lichess.org/training/7gryY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gS83', 'Rapid', 'kikooOOoo', 1618, 'karlmaks', 1697, 'Nf3,d5,g3,Nf6,d3,Nc6,Bg2,e5,O-O,Bc5,Nbd2,h5,e4,h4,Nxh4,Bg4,Nhf3,Qe7,exd5,Nd4,c4,O-O-O,Ne4,Nxe4,dxe4,Rh7,Bg5,f6,Be3,Qf7,Bxd4,Qh5,h4,Bxd4,Qd3,g5,Rab1,gxh4,Nxh4,Be2,Qd2,Rg8,Kh2,Bxf1,Rxf1,Qg4', 'Bh3,Qxh3+,Kxh3', 'https://lichess.org/training/7gS83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gSku', 'Classical', 'leghold', 1683, 'Irina_Polyato', 1678, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,c5,c3,Nc6,c4,cxd4,Nxd4,Bb4+,Nc3,Ne4,cxd5', 'Nxc3,bxc3,Bxc3+', 'https://lichess.org/training/7gSku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gSWw', 'Classical', 'Rojas10dcm', 1711, 'Rayater', 1638, 'd4,Nf6,c4,g6,Nf3,d5,cxd5,Nxd5,e4,Nb6,Nc3,Bg7,Bd3,O-O,Bc2,Nc6,O-O,Nxd4,Nxd4,Qxd4,Qf3,c6,Bb3,Nd7,Ne2,Ne5', 'Nxd4,Nxf3+,Nxf3', 'https://lichess.org/training/7gSWw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gsyh', 'Rapid', 'mssumeet', 1971, 'svppasa', 1742, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Be7,O-O,O-O,Qe1,h6,Nf3,e4,Ne5,Bb7,b4,Bxb4,a3,Bd6,Bb2,Qe7,d4,exd3,Qxa5,Bxe5,Bxe5,Nd5,Bb2,dxc2,Bxc2,Qh4,Nc3,Nf4,Qb4,Qg5,g3,Nh3+,Kg2,c5+,Qxb7,Rab8,Qd5', 'Nf4+,Kg1,Nxd5', 'https://lichess.org/training/7gsyh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gVNE', 'Rapid', 'abokhaledbaranbo', 1890, 'stanlv', 1776, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Bc5,d3,Nge7,a3,d5,exd5,Nxd5,c3,Be6,Bb5,O-O,Bxc6,bxc6,Nxe5,Bd6,Nxc6,Qh4,h3,Bxh3,Qf3,Bxg2,Qxg2,Nf4,Bxf4,Bxf4,Nd4,Rad8,Nf3,Qh5,Nbd2,Rxd3,Rad1,Rd5,Ne4,Rxd1,Rxd1,Re8,Ng3,Re6,Kf1,Qb5+,Kg1,Qxb2,Rd8+,Kh7,Nd4,Re1+,Kh2,Qxc3,Nf3,Rc1,Nh4,Rc2', 'Qe4+,g6,Qxf4', 'https://lichess.org/training/7gVNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gX5T', 'Rapid', 'vexch', 1754, 'ibra123456', 1706, 'd4,e6,e4,c6,f4,a6,Nf3,d5,e5,h6,Bd3,c5,c3,Nc6,O-O,Qc7,Nbd2,cxd4,cxd4,Qb6,Nb3,Bd7,Kh1,Rc8,Nc5,Bxc5,dxc5,Qxc5,Bd2,Qb6,b3,Na7,f5,exf5,e6,Bxe6,Nh4,Ne7,Qe2,O-O,Nxf5,Nxf5,Bxf5,Bxf5,Rxf5,Qe6,Qg4,Rc6,Re1,Qg6,Qf3,d4,h4,Nb5,h5,Qd6,Qg4,Nc3,Rf3,Rc5,Ref1,Qe6', 'Qxe6,fxe6,Rxf8+', 'https://lichess.org/training/7gX5T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7GxLQ', 'Blitz', 'qualitysinger', 1972, 'erdalozkurt9', 1964, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bd3,O-O,Nf3,d5,Bd2,Bxc3,Bxc3,dxe4,Bxf6,Qxf6,Bxe4,Nc6,c3,Ne5,Qc2,Nxf3+,Bxf3,Rb8,O-O,e5,Be4,g6,Rad1,Be6,Rd6,Qe7,Rfd1,f5', 'Rxe6,Qxe6,Bd5,Qxd5,Rxd5', 'https://lichess.org/training/7GxLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7gydK', 'Rapid', 'clevereduardo', 1873, 'inovak', 1860, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f4,e6,Be2,Nbd7,O-O,Qc7,f5,Ne5,Bf4,Be7,fxe6,fxe6,Bh5+,g6,Be2,Bd7,Bg5,Rf8,Bh6,Rf7,Bd3,O-O-O,Rc1,Kb8,a4,Nfg4,Rxf7,Nxf7,Qxg4,Nxh6,Nxe6,Nxg4,Nxc7,Kxc7,Nd5+,Kb8,Nxe7,Re8,Nd5,Bxa4,h3,Ne5,Nf6,Re7,b3,Bc6,Nd5,Rf7,Ne3,Kc7,Nc4,b5,Nxe5,dxe5,c4,Kb6,c5+,Kb7,b4,Rd7,Be2,Rd4,Rf1,Rxe4,Rf7+,Kc8,Bf3,Rxb4,Bxc6,a5,Bb7+,Kb8,c6,a4,Ba6,Rb1+,Kh2,Rc1,Bxb5,a3,Rb7+,Kc8,Ra7,Rc5,Ba6+,Kb8,Rb7+,Ka8,Rb1,Ka7,Bb7,a2,Ra1,Ra5,Kg3,Ra4,Kf3,Kb6,Ke3,Kc7,g4,g5,Kd2,e4,Ke3,Kb6,Bc8,Kxc6,Bf5,Kd5,Bxh7,Ra3+,Ke2,Kd4,Bg8,Re3+,Kf2,Rxh3,Kg2,Ra3,Rxa2,Rxa2+,Bxa2,Ke3,Kf1,Kd2,Bc4,Ke3,Ke1,Kf4,Be6,Ke3,Bf5,Kf4,Ke2,e3,Bc8,Ke4,Bf5+,Kf4,Kd3', 'Kf3,Be4+,Kf2,Kc4,e2', 'https://lichess.org/training/7gydK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7GyLm', 'Blitz', 'V_vs', 2485, 'GM hesham-a', 2553, 'e4,c6,Ne2,d5,exd5,cxd5,d4,Nc6,Ng3,g6,c3,Bg7,Bd3,Nf6,O-O,O-O,Bf4,Qb6,Qb3,Re8,Re1,Ng4,h3,Nh6,Nd2,Nf5,Nxf5,Bxf5,Bxf5,gxf5,Qxd5,Qxb2,Qxf5,Qxc3,Ne4,Qxd4,Ng5,Qf6,Qxh7+,Kf8,Bd2,Red8,Ne4,Qg6,Qxg6,fxg6,Rab1,b6,Rbc1,Rac8,Bg5,Kf7,Rc4,Ne5,Rxc8,Rxc8,f4,Nd3,Rd1,Rc4,Rxd3,Rxe4,Rd7,a5,Kf2,Bf6,Bxf6,Kxf6,Rb7,Rxf4+,Kg3,Rb4,h4,a4,Kf3,b5,g4,Rb2,Rb6+,Kf7,h5,gxh5,gxh5,b4,h6,b3,axb3', 'Rxb3+,Rxb3,axb3', 'https://lichess.org/training/7GyLm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7GyoB', 'Rapid', 'Naeim04', 1955, 'kaisa2020', 1798, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,cxd5,exd5,e3,Be7,Nf3,O-O,Bd3,Re8,Qc2,Nf8,O-O,c6,h3,g6,Ne5,Ne6,f4,Ng7,g4,Nd7,Bh6,Nxe5,dxe5,Bc5,Rf3,d4,Ne4,Be7,Kh2,dxe3,Bxg7,Kxg7,f5,Kg8,fxg6,hxg6,Nf6+,Bxf6,exf6,Qd6+,Kg2,Re6,g5,Qe5,Bxg6,e2,Bxf7+,Kxf7,Qh7+,Kf8,Qg7+,Ke8,f7+,Kd7,Rd3+,Kc7,f8=Q+,Kb8,Qxc8+,Kxc8', 'Qd7+,Kb8,Qd8#', 'https://lichess.org/training/7GyoB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7H0IC', 'Blitz', 'IM Romsta', 2571, 'Recobachess', 2560, 'Nf3,b6,g3,Bb7,Bg2,g6,O-O,Bg7,d3,e6,c4,Ne7,Nc3,d6,Bg5,h6,Bd2,g5,e4,Nd7,Re1,Ng6,Qc2,g4,Nh4,Nxh4,gxh4,Qxh4,Bf4,Be5,Bg3,Bxg3,hxg3,Qf6,Qd2,a6', 'e5,Nxe5,Bxb7', 'https://lichess.org/training/7H0IC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7h5pV', 'Rapid', 'SANTYAGOHONOR', 1864, 'Marykkk', 2027, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bf4,Nc6,e3,g6,Nf3,Bg7,Bb5,O-O,h3,a6,Be2,b5,Rc1,Bb7,O-O,Rc8,a3,e6,b4,Nd7,Qd3,Nb6,Nd2,Nc4,Nxc4,dxc4,Qd1,Ne7,Bf3,Nd5,Bxd5,exd5,Qg4,f5,Qg3,Re8,h4,Qf6,Be5,Qf7,Bxg7,Qxg7,Qg5,h6,Qf4,Rf8,g3,Rcd8,Kg2,Kh7,Rh1,Qf6,Rcf1,Rf7,Rh3,Bc6,Re1,Re8,Rhh1,Kg7,Rb1,Rfe7,Rh3', 'g5,hxg5,hxg5,Qf3,g4', 'https://lichess.org/training/7h5pV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7hb3j', 'Rapid', 'Lynaleks22', 2196, 'PapoKarla', 1991, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,Bd6,Bg3,Bxg3,hxg3,Nf6,c4,dxc4,Bxc4,Nc6,Nc3,a6,O-O,h6,b4,Ne4,Nxe4,Bxe4,Qb3,Bxf3,gxf3,Qf6,Kg2,h5,Rh1,Ne7,d5,h4,dxe6,O-O-O,f4,hxg3,fxg3,fxe6,Bxe6+,Kb8,Rxh8,Rxh8,Rh1,Rd8,Rf1,Rd6,Bg4,Rd2+,Rf2,Rxf2+,Kxf2,g5,Bf3,gxf4,exf4,Nf5,Qd5,Qb2+,Kg1,Qc1+,Kh2,Qb2+,Kh3', 'Qh8+,Kg4,Ne3+', 'https://lichess.org/training/7hb3j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HC02', 'Rapid', 'Armen888', 1613, 'Chomusuke_the_cat', 1797, 'e4,d5,exd5,Qxd5,Nc3,Qd8,a3,e5,Bc4,Nf6,d3,Be7,Bg5,h6,Bxf6,Bxf6,h3,O-O,Nf3,Nc6,O-O,Bf5,Bd5,Bd7,Ne4,Rb8,c3,Bxh3,gxh3,Qxd5,Nxf6+,gxf6,Nh4,Kh7,Nf5,Rg8+,Ng3,f5,Kh2,f4,Ne4,Rg6,Qf3,Qe6,Rg1,Ne7,Rxg6,Nxg6,Qh5,Rd8', 'Ng5+,Kg8,Nxe6', 'https://lichess.org/training/7HC02');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HcBK', 'Classical', 'vkd1234', 1623, 'pastelboy', 1664, 'e4,e5,Nf3,Nc6,d3,Nf6,Bg5,h6,Bxf6,Qxf6,Be2,Bd6,O-O,O-O,Nc3,Nd4,Nd5,Nxe2+,Qxe2,Qe6,c4,c6,Nb4,Bxb4,a3,Ba5,d4,exd4,Nxd4,Qe5,Qe3,Bc7,g3,c5,Nb5,Qxb2,Nxc7,Rb8,Qxc5,b6,Qe3,Bb7,Nd5,Rfe8,Qf3,Qe5,Qg4,Qxe4', 'Nf6+,Kh8,Nxe4', 'https://lichess.org/training/7HcBK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HCF6', 'Rapid', 'DavidG21', 1695, 'kemo1010', 1770, 'd4,Nf6,Nf3,c5,d5,e6,c4,exd5,cxd5,Be7,Nc3,O-O,e4,d6,Bd3,Bg4,O-O,Nbd7,Re1,Ne5,Be2,Qb6,Nxe5,Bxe2,Qxe2,dxe5,Qf3,c4,Qg3,Rfe8,Qxe5,Bc5,Qg3,Nh5,Qf3,f5,Na4,fxe4,Nxb6', 'exf3,Rxe8+,Rxe8', 'https://lichess.org/training/7HCF6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7hCRv', 'Rapid', 'puslan2334', 1900, 'Hamlet13mx', 1857, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Qb6,a3,Qxb2,Na4,Qxa1,Qxa1,cxd4,Nxd4,Be7,Nxc6,bxc6,c4,O-O,cxd5,cxd5,Nc3,Bb7,Qb1,Rab8,Bb5,Bc6,O-O,Bxb5,Bxa7,Rb7,Nxb5,Bxa3,Rf3,Bc5+,Kf1,Bxa7,Qa2,Bc5,Rb3,Rfb8,Qa5,Bf8,Ke2,Nc5,Rb2,Ne4,Kd3,Bc5,Kc2,Be3,Rb3,Bxf4,Nd4,Rc8+,Kd1,Rc1+,Ke2,Nc3+,Rxc3,Rb2+,Kf3,Rf1+,Kg4,Rxg2+,Kh4,Rxh2+,Rh3,g5+,Kg4,Rg1+,Kf3,Rxh3+,Kf2,Rgh1,Qd8+,Kg7,Qf6+,Kf8', 'Nxe6+,Kg8,Qg7#', 'https://lichess.org/training/7hCRv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7hDrL', 'Rapid', 'Thuaire', 1970, 'Ma_kita', 1989, 'd4,Nf6,Bf4,d6,Nc3,c6,e3,Bg4,f3,Bf5,e4,Bd7,Bg5,h6,Bxf6,gxf6,Bd3,e5,d5,c5,Bb5,a6,Bxd7+,Nxd7,Nge2,h5,h3,Bh6,Ng3,Bf4,Nce2,h4,Nxf4,exf4,Nf5,Ne5,Ng7+,Kf8,Nf5,Rg8,Kf2,Qb6,b3,c4+,Kf1,cxb3,axb3,Rg3,Nxh4,Rc8,Nf5,Rg6,Rc1,Rc3,Qd4,Qxd4,Nxd4,Nd3,Rd1,Nb4,Kf2,Nxc2,Rc1,Rxg2+,Kxg2,Ne3+,Kh2,Rd3,Nf5', 'Rd2+,Kg1,Rg2#', 'https://lichess.org/training/7hDrL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7hEuq', 'Blitz', 'Ghostfreakk', 2488, 'NM Artak_Manukyan', 2429, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Be2,Bg4,Nc3,e6,Ne5,Nxe5,dxe5,Bxe2,Qxe2,Ne7,Bg5,h6,Bh4,g5,Bg3,Nc6,h4,Bg7,hxg5,hxg5,Rxh8+,Bxh8,O-O-O,Qa5,Qh5,O-O-O,Qxf7,d4,Qxe6+,Kb8,Ne4,d3,cxd3,Nd4,Qc4,Bxe5,Bxe5+,Qxe5,Kb1,Rc8,Qf7,Ne6,Qf6,Qd5,Nc3,Qd7,d4,Qh7+,Ka1,Qc2,Qe5+,Ka8,Qe1,Nf4,Qd2,Qf5,g3,Nd5,g4,Qd7,Qxg5,Nxc3,bxc3,Rxc3,Qg8+,Rc8,Qg5,Qa4,Qd2', 'Rc2,Qxc2,Qxc2', 'https://lichess.org/training/7hEuq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HgUb', 'Rapid', 'babilondisco66', 2049, 'Kebliment', 1986, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,f3,Be6,Qd2,b5,Nd5,Nxd5,exd5,Bf5,g4,Bg6,h4,Bxh4+,Bf2,Bxf2+,Qxf2,Nd7,O-O-O,Bxc2,Qxc2', 'Rc8,Qxc8,Qxc8+', 'https://lichess.org/training/7HgUb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HH9X', 'Classical', 'prvin', 1671, 'daikker', 1668, 'e4,c5,Bc4,e6,Nh3,Nc6,c3,d5,exd5,exd5,Qe2+,Be7,Bb5,Qd6,Ng5,Nf6,O-O,O-O,Bd3,g6,Bc2,Re8,d3,Ng4,Nf3,d4,a3,Bd7,h3,Nge5,Nxe5,Nxe5,Bf4,Bf6,cxd4,Qxd4,Bxe5,Rxe5,Qd2,Rg5,Qe3,Qxb2,Nd2,Qxc2,Rac1,Qa4,Ne4,Re5', 'Nxf6+,Kg7,Qxe5', 'https://lichess.org/training/7HH9X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HHZS', 'Blitz', 'siodenz', 2221, 'Zezo_master', 2180, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,d4,d5,Bd3,Bd6,O-O,O-O,Re1,Bg4,c3,c6,Bg5,Nbd7,Nbd2,Qc7,Qb1,Bh5,Bf5,Bg6,Bxg6,fxg6,Nf1,Bf4,Bh4,Ne4,Qd3,g5,Bg3,Bxg3,hxg3,Rae8,Re2,Qd6,Rae1,Qg6,g4,Qe6,N3h2,Qg6,Ng3,Ndf6,Nf5,Nxg4,Ne7+,Rxe7,Nxg4,Qf5,f3,Rfe8,Nh2,Ng3,Rxe7,Qxd3,Rxe8+,Kf7,R1e7+,Kg6,Re6+,Kh5,Ng4', 'Qf1+,Kh2,Qh1+,Kxg3,Qh4#', 'https://lichess.org/training/7HHZS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HIrA', 'Rapid', 'valera-miguel', 1905, 'NassarBR', 1906, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,e6,Bd3,Bxd3,Qxd3,Nd7,Be3,Ngf6,Ne4,Nxe4,Qxe4,Nf6,Qf4,c5,O-O-O,cxd4,Bxd4,Qa5,Bxf6,gxf6,Qxf6,Rg8,Ne5,Rg7,Rd7,Rd8,Rxf7', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/7HIrA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HjLg', 'Rapid', 'WJEUN', 1917, 'scoda2001', 1904, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,d6,Bb5,Bd7,O-O,Be7,Nxc6,Bxc6,Bxc6+,bxc6,Qe2,O-O,Rd1,Nd7,Bf4,Bf6,Qc4,Rb8,Rab1,Qe7,Qxc6,Nc5,Nd5,Qxe4,b4,Qxc2,Nxf6+,gxf6,Rbc1,Qf5,Bxd6,cxd6,bxc5,dxc5,Qxc5,Qxc5,Rxc5,Rb7,h3,Re8,Rf5,Re6,Rf3,Ra6,a3,f5,Ra1,Ra5,Rd1,Kg7,Rg3+,Kf6,Rd6+,Ke5,Rdd3,Rb1+,Kh2,Rf1,Rge3+,Kf6,Rd6+,Kg5,Rg3+,Kf4,Rf3+,Ke5,Rd7,Ke6,Rdd3,Re5,Rd8,Re2', 'Re8+,Kf6,Rxe2', 'https://lichess.org/training/7HjLg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HkrB', 'Rapid', 'naikus', 1655, 'Avigian', 1713, 'd4,d5,c4,c6,Nc3,Bf5,Qb3,b6,cxd5,cxd5,Qxd5,Qxd5,Nxd5,Nc6,Nc7+,Kd7,Nxa8,Nxd4,Kd2,e5,Nf3', 'Bb4+,Kd1,Bc2#', 'https://lichess.org/training/7HkrB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7hL9D', 'Rapid', 'ZoDuck12', 2191, 'karimesmaeilpour2', 2193, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,O-O,O-O,Bb3,Nc6,h3,Na5,Be3,Nxb3,axb3,a6,f4,Bd7,Qd2,b5,f5,b4,Nd5,Nxe4,Qxb4,Ng3,f6,exf6,Rf3,Nf5,Nxf5,Bxf5,Rxf5,gxf5,Qf4,Re8,Bb6,Qd7,Nc7,Re4,Qf2,Rc8,Rxa6,Rxc7,Bxc7,Qxc7', 'Ra8+,Bf8,Qg3+,Rg4,hxg4', 'https://lichess.org/training/7hL9D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HlvH', 'Rapid', 'LegendarnyAfrojax', 2029, 'Jesuspb', 2074, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,d6,Be2,Nf6,Bg5,Be7,Qd2,Bd7,O-O-O,Nc6,Kb1,Qc7,h4,O-O,h5,h6,Be3,Rfd8,g4,Nxd4,Bxd4,Bc6,f3,e5,Be3,Nh7,Bxh6,gxh6,Qxh6,Bf8,Qe3,Qe7,g5,Nxg5,Rdg1,f6,Bc4+,Kh8,h6,b5,Nd5,Bxd5,Bxd5,Qa7,Qd2,Rac8,Rxg5,fxg5,Qxg5,Qh7', 'Qf6+,Qg7,hxg7#', 'https://lichess.org/training/7HlvH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HtfS', 'Blitz', 'FM Titanium63', 2320, 'Waign', 2208, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e5,Nb3,Be6,Be3,Nbd7,Qd2,b5,g4,Be7,O-O-O,Nb6,Qf2,Nfd7,Na5,Qc7,Nd5,Nxd5,exd5,Qxa5,dxe6,fxe6,Kb1,O-O,c4,bxc4,Bxc4,d5,Bb3,Nc5,Bxd5,exd5,Rxd5,Rac8,Rc1,Nd3,Rxa5', 'Rxc1+,Bxc1,Nxf2', 'https://lichess.org/training/7HtfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7hUBm', 'Rapid', 'soukabelettes', 1901, 'mariner9', 1844, 'c4,b6,Nc3,e5,e4,Bb7,g3,Nf6,Bg2,Bb4,a3,Bxc3,bxc3,d5,cxd5,Nxd5,exd5,Bxd5,Bxd5,Qxd5,Qf3,e4,Qe3,Nc6,Ne2,Ne5,O-O,Nf3+,Kg2,O-O-O,Nf4,Qf5,a4,g5,Nh3,Rd3,Qe2,Qd5,Ng1,Nxd2,Bxd2,e3+,f3', 'Rxd2,Rad1,Rxe2+', 'https://lichess.org/training/7hUBm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7HVpv', 'Blitz', 'BeGiC03', 2181, 'WFM geychess', 2164, 'd4,d5,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,c3,c5,Bg5,Nc6,Bxf6,Bxf6,e3,cxd4,cxd4,Bg4,Nc3,e6,h3,Bxf3,Bxf3,Rc8,a3,Qd6,Rc1,a6,b4,Rfd8,Na4,e5,dxe5,Nxe5,Bg2,Rxc1,Qxc1,Qc6,Nc5,Qb5,Qd2,b6,Nb3,Nc4,Qa2,Bg7,Rd1,a5,bxa5,bxa5,a4,Qb4,Nd4,Nb6', 'Nc6,Qxa4,Qxa4,Nxa4,Nxd8', 'https://lichess.org/training/7HVpv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Hwfg', 'Rapid', 'gas81', 1902, 'RToWin', 1839, 'd4,e6,Bf4,d5,e3,c5,c3,Nc6,Nf3,Qb6,Qc2,Bd7,Be2,cxd4,Nxd4,Nge7,Nd2,Ng6,Bg3,h5,h3,h4,Bh2,Rc8,Rb1,Nxd4,exd4,Bd6,Nf3,Bxh2,Nxh2,Qxd4,Qxg6,Rxc3,Qg4,Qxg4,Nxg4,Rc7,O-O,Ke7,Ne5,Be8,Rfc1,Rxc1+,Rxc1,f6,Nf3,Kd6,Nd4,a6,Rc8,Kd7,Rc3,g6,f3,e5,Nb3,Bf7,Nc5+,Ke7,Nxb7,Rb8,Bxa6,d4,Rc7+,Kf8,b3,Bd5,Nd6,Rb6,Bc4,Rxd6,Bxd5,Rxd5,Kf2,f5,Ke2,e4,a4', 'd3+,Kd1,e3', 'https://lichess.org/training/7Hwfg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7hZ88', 'Classical', 'Reddit283649', 1648, 'g_roberti', 1698, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,O-O,O-O,d5,exd5,cxd5,Bg5,h6,Bxh6,gxh6,Qd2,Kg7,Qe3,Bd6,Rad1,Rg8,Rfe1,Ng4,Qf3,Qf6,Qxd5,Qxf2+,Kh1,Bxh2,Qxa8,Bf5,Bxf5,Rxa8,Bxg4,Qh4,Re4,Bg3+', 'Bh3,Qf6,Rg4+', 'https://lichess.org/training/7hZ88');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7I0uq', 'Rapid', 'GGCPH53', 1772, 'elahi59', 1960, 'Nf3,d5,g3,c5,Bg2,Nc6,O-O,e5,d3,f5,e4,fxe4,dxe4,d4,Nbd2,Nf6,Nc4,Qc7,Re1,Bg4,h3,Bh5,Bg5,Be7,a4,O-O,g4,Bg6,Nh4,a6,Nf5,b5,Bxf6,Bxf6,axb5,axb5,Nd2,Bf7,Nf3,g6,Nh6+,Kg7,Nxf7,Qxf7,Qd2,h6,h4,Qc4,g5,hxg5,Nxg5,Bxg5,Qxg5,Qf7,Rxa8,Rxa8,Kh1,Qxf2', 'Rf1,Ra1,Rxa1', 'https://lichess.org/training/7I0uq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7i28P', 'Rapid', 'agimdalipi', 1849, 'MOHAMAD197676', 1730, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Bg4,Nbd2,Qd7,Qe1,f6,h3,Bf5,Ne4,O-O-O,a4,Nf4,Bxf4,exf4,Kh2,g5,Qd2,h5,Nxf6,Qd6,Nd5,g4,Nh4,g3+,fxg3,fxg3+,Kh1,Be6,Ne3,Bd7,Qc3,Be7,Nhf5,Qg6,Nxe7+,Nxe7,Rf6,Qg5,Nd5', 'Nxd5,Bxd5,Qxd5', 'https://lichess.org/training/7i28P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7i2Vj', 'Rapid', 'dark2018', 1820, 'Seeelefant', 1815, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,e4,b6,Be3,Bb7,Bd3,Re8,h3,d6,Qd2,a6,Bh6,Bh8,h4,e5,d5,Ng4,Be3,Nxe3,Qxe3,c6,h5,Bg7,hxg6,fxg6,Ng5,h5,Ne6,Rxe6,dxe6,Qf6,Bc2,c5,Nd5,Qxe6,Nc7,Qxc4,Nxa8,Qxc2,Nc7,Qxe4,Qxe4,Bxe4,Rd1,Bf8,Rg1,Kf7,f3,Bc6,Rd3,Kf6,Kf2,Kf5,Rgd1,e4,fxe4+,Bxe4,R3d2,a5,Nd5,b5,Ne3+,Kf4,g3+,Ke5,g4,h4,g5,Nc6,Rf1,Kf4,Ke2+,Kxg5,Rxf8,Nd4+,Kd1,d5,Rd8,Bf3+,Ke1,Be4,Nxd5,Nf3+,Ke2,Nxd2,Kxd2,Kg4,Ne3+,Kg3,Rf8,h3,Nf1+,Kg2,Ke3,Bb7,Rf2+,Kg1,Ke2,g5,Rh2', 'Bg2,Ne3,Kxh2', 'https://lichess.org/training/7i2Vj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7I7oH', 'Rapid', 'multaf', 1647, 'danilozani', 1655, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,Nf3,Qxe4+,Qe2,d5,d3,Qe6,Qxe6+,fxe6,Ne5,Bd6,f4,Nbd7,d4,Bb4+,c3,Ba5,Bb5,c6,Ba4,O-O,Nd2,Nxe5,fxe5,Ng4,Nf3,b5,Bc2,b4,Bd2,Rb8,h3,Nh6,Bxh6,gxh6,Kd2,Ba6,Ba4,Bb5,Bc2,bxc3+,bxc3,Bb6,a4,Bc4,a5,Bc7,Bd3,Bb5,Bxb5,cxb5,Rhb1,a6,Ke3,Bd8,Nh2,Bg5+,Ke2,Rf4,Rf1,Rbf8,Rxf4,Rxf4,Rf1,Re4+,Kd3,Re3+,Kc2,Re2+,Kb3,Rxg2,Nf3,Bd8,Rg1,Rg6,h4,Bxh4', 'Rxg6+,hxg6,Nxh4', 'https://lichess.org/training/7I7oH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7i7UV', 'Blitz', 'nicolo97', 1592, 'bmv', 1713, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,Bg5,h6,Bh4,g5,Bg3,Bg4,h3,Bh5,Bh2,g4,hxg4,Nxg4,Nd5,Nxf2,Qe2,Nxh1,O-O-O,Nd4,Qf1,Nxf3,gxf3,Nf2,Bg1,Nxd1,Kxd1,Bxg1,Qxg1,c6,Qg7,Rf8,Nf6+,Ke7,Nxh5,Qd7', 'Qf6+,Ke8,Ng7#', 'https://lichess.org/training/7i7UV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7I8s3', 'Rapid', 'Exta', 1730, 'CheckTotheK1NG', 1609, 'e4,e6,d4,d5,Nc3,Nf6,Bd3,c5,e5,Nfd7,b3,cxd4,Nb5,Bb4+,Bd2,a5,Nf3,Nc6,O-O,Ncxe5,Nbxd4,Nxd3,cxd3,Nc5,Nb5,Nxd3,Bg5,f6,Bxf6,gxf6,Qxd3,Bd7,a3,Be7,Rac1,Rc8,Na7,Rxc1,Rxc1,Bxa3,Nb5,Bxb5,Qxb5+,Qd7', 'Rc8+,Ke7,Qxd7+,Kxd7,Rxh8', 'https://lichess.org/training/7I8s3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7IAfC', 'Classical', 'alizare1997', 1840, 'Olaf_14', 1881, 'e4,c5,Nf3,d6,c3,Nf6,Qc2,Nc6,d4,cxd4,cxd4,e6,Bg5,Be7,Bd3,h6,Be3,O-O,O-O,Nb4,Qb3,Nxd3,Qxd3,b6,Nc3,Bb7,Rfd1,d5,e5,Ne4,Nd2,Nxc3,Qxc3,a5,a4,Bb4,Qb3,Qe7,Nf3,Ba6,Bd2,Bxd2,Rxd2,Rab8,Rc1,Bc4,Qc3,Rfc8,Rdc2,Qd7,Qe3,Qxa4,b3,Qxb3', 'Qxb3,Bxb3,Rxc8+,Rxc8,Rxc8+', 'https://lichess.org/training/7IAfC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7idxp', 'Rapid', 'GarryTal', 1917, 'Harsh1812', 1882, 'e4,d5,d4,dxe4,Bc4,Nc6,Ne2,Nf6,O-O,Bg4,Be3,Qd7,b4,Nxb4,Nbc3,e6,Qd2,Nbd5,Rab1,c6,Bg5,Be7,f3,exf3,gxf3,Bf5,Nxd5,exd5,Bd3,O-O-O,Rb3,h6,Be3,g5,Rfb1,b5,a4,Bxd3,Qxd3,Qh3,Ng3,a6,axb5,axb5,Qc3,Kd7,Qa5,Rc8,Re1,g4,Bd2,gxf3', 'Qa7+,Rc7,Rxe7+,Kxe7,Qxc7+', 'https://lichess.org/training/7idxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ihoD', 'Rapid', 'Rotes-T-Shirt', 1656, 'Yisus44', 1643, 'e4,e5,Nc3,Nf6,Nf3,Nc6,a3,d6,h3,Be7,Bb5,Bd7,Bxc6,Bxc6,d3,h6,O-O,O-O,Be3,Re8,b4,b5,a4,bxa4,Nxa4,Bxa4,Rxa4,Qb8,c4,a6,Qb3,Rc8,b5,axb5,Rxa8,Qxa8,Qxb5', 'Rb8,Qxb8+,Qxb8', 'https://lichess.org/training/7ihoD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7iIj7', 'Rapid', 'ipereira13', 1981, 'Matvpolhoda', 2167, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,Qg6,Nxc6,Qxc6,Bxf7+,Kxf7,Qh5+,Ng6,Qf5+,Kg8,Qxc5,Qxe4,O-O,Qc6,Qg5,h6,Qg3,Kh7,f4,Rf8,f5,Ne7,Bd4,Rf7,Nd2,d5,Rae1,Nxf5,Qd3,Qg6,Re8,Nxd4', 'Rh8+,Kxh8,Qxg6', 'https://lichess.org/training/7iIj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7iiOn', 'Blitz', 'petr_jk', 1987, 'vertigesdelA', 1937, 'd4,d5,c4,Nf6,Nc3,c6,Bf4,g6,e3,Bg7,Nf3,O-O,cxd5,Nxd5,Bc4,Nxf4,exf4,Bg4,d5,Bxc3+,bxc3,cxd5,Qxd5,Nc6,Qxd8,Raxd8,Be2,e5,fxe5,Bxf3,Bxf3,Nxe5,Bxb7,Rd7,Ba6,Rd6,Be2,Nd3+,Bxd3,Rxd3,O-O,Rxc3,Rfd1,Rfc8,g3,a5,a4,R8c4,Rd5,Rc5,Rad1,Kg7,R1d4,h5,h4,Kf6,Rd6+,Ke5,Rd7,f5', 'f4+,Kf6,R4d6#', 'https://lichess.org/training/7iiOn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7IsgZ', 'Rapid', 'MPN-13', 1833, 'Bonehur', 1778, 'b4,e6,Bb2,d5,e3,Bd7,a4,Nc6,b5,Nce7,Nf3,Ng6,c4,c6,Qb3,cxb5,axb5,dxc4,Bxc4,Nf6,Nc3,Be7,O-O,O-O,Ra2,Qb6,Rfa1,Rfb8,Ne2,a6,Ne5,Nxe5,Bxe5,Rc8,bxa6,Qxb3,Bxb3,bxa6,Rxa6', 'Rxa6,Rxa6,Bb5', 'https://lichess.org/training/7IsgZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7IsuY', 'Classical', 'Ivan-Cosic', 1623, 'Amrlxy_19', 1694, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,Nf3,Bf5,h3,Bd6,Bd3,Ne7,Bxf5,Nxf5,Qe2+,Ne7,Be3,O-O,Ng5,h6,Nf3,Re8,O-O-O,Nd7,g4,a5,h4,g6,Bxh6,b5,g5,b4,Na4,Bf4+,Kb1,c5,Ne5,Nxe5,dxe5,c4,h5,Nf5,hxg6,fxg6,e6,b3,Nc3,d4,Qe4,bxa2+,Nxa2,Qb6,Qxf4,Rab8,Qc1,c3,b3,a4,Qa3,axb3,Qxb3,Qxe6,Nb4,Qxb3+,cxb3,Rxb4,Kc2,Reb8,Rb1,R4b6,Rhe1,Kf7,Re5,Rc6,Rd5,Re8,Rxf5+,gxf5,Kd3,Rd8,b4,Ra6,b5,Ra2,b6,Rd2+,Kc4,c2,Rc1,d3', 'g6+,Kxg6,Bxd2', 'https://lichess.org/training/7IsuY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Ivm3', 'Blitz', 'Tinote', 1773, 'angrybyr', 1749, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb3,Nc6,Nc3,a6,Bc4,b5,Bd5,Bb7,Qh5,g6,Qf3,Nf6,Bg5,Be7,O-O-O,Nxd5,Nxd5,Bxg5+,Kb1,O-O,h4,Bxh4,Qh3,Nd4,g3,Nxb3,axb3,Bxd5,Rxd5,Rc8,Rxd6,Qxd6,Qxh4,h5,Qg5,Kg7,Rxh5,Qf6', 'Qh6+,Kg8,Qh7#', 'https://lichess.org/training/7Ivm3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7iwVp', 'Blitz', 'FM XadrezDisparatado', 2463, 'Fundadeporte', 2419, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Be2,c6,d4,Qc7,Nf3,cxd5,Ne5,e6,O-O,Bd6,f4,O-O,c3,Nc6,Nd2,a6,a3,h6,Bd3,Be8,Rf3,Nh5,Qe1,Ne7,Qh4,f5,g4,Ng6', 'Nxg6,Bxg6,gxh5', 'https://lichess.org/training/7iwVp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7IztX', 'Blitz', 'dskc', 1736, 'Odyssey2000', 1604, 'd4,d5,f4,Nc6,Nf3,Bg4,e3,Nf6,c4,dxc4,Bxc4,e6,O-O,Be7,Nbd2,O-O,a3,a6,Qc2,Na5,Bd3,Nc6,b4,b5,Ne4,Nb8,Ne5,Bh5,Nxf6+,Bxf6,Bxh7+,Kh8,Be4,Bxe5,Bxa8,Bxd4,exd4,Qxd4+,Kh1,Qxa1,Bf3,Bg6,Qb3,Qd4,Rd1,Qf2,Be3,Qh4,Qc3,Rc8,Bb7,Rd8,Rxd8+,Qxd8,Bd4,f6,g3,e5,fxe5,fxe5,Bxe5,Qd1+,Kg2,Qe2+,Kh3', 'Bf5+,g4,Qxg4#', 'https://lichess.org/training/7IztX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7j0e9', 'Blitz', 'doroteu', 1817, 'Falso27', 1691, 'c4,c5,e4,d6,d3,Nc6,f4,Nf6,Nf3,Bg4,Be2,Bxf3,Bxf3,e5,f5,Be7,Be3,Qc7,O-O,g6,Be2,h5,Bg5,Nd4,fxg6,Ng4,gxf7+,Kd7,Bxg4+,hxg4,Qxg4+,Kc6,Bxe7,Qxe7,Nc3,Raf8,Nd5,Qd7,Qg6,Ne2+,Kh1', 'Rxh2+,Kxh2,Rh8+,Qh7,Rxh7#', 'https://lichess.org/training/7j0e9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7J6xP', 'Rapid', 'dx2j', 1813, 'Tad11', 1624, 'e4,c5,g3,Nf6,d3,Nc6,Bg2,e5,Ne2,Be7,O-O,O-O,Kh1,d6,f4,exf4,Bxf4,d5,Nbc3,dxe4,Nxe4,Nxe4,Bxe4,Nd4,Nc3,Bf5,Bd5,Nb5,Be4,Nxc3,bxc3,Bxe4+,dxe4,Qa5,Qg4,Qxc3,Bh6,Bf6,Rad1,Qxc2', 'Rxf6,Qxd1+,Qxd1', 'https://lichess.org/training/7J6xP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7j7lK', 'Rapid', 'venegeance', 2018, 'vkru', 2202, 'e4,d6,f4,Nf6,Nc3,g6,Bc4,Bg7,Nf3,O-O,O-O,c6,d3,b5,Bb3,e5,fxe5,dxe5,Nxe5,Qd4+,Kh1,Qxe5,Bf4,Qe7,Qe1,Nh5,Be3,Be6,Qf2,Nd7,Bxa7,c5,Nxb5,Bxb2,Rab1,Be5,c3,Bxb3,axb3,Rxa7,Nxa7,Bxc3,Nc6,Qd6,Qc2,Bg7,Na5,Ne5,Nb7,Qc7,Nxc5,Ng4,g3,Ne3,Qf2,Nxf1,Rxf1,Nf6,d4,Ng4,Qf3,Bxd4,Ne6,Qc2,Qxg4,fxe6', 'Qxe6+,Kg7,Qe7+', 'https://lichess.org/training/7j7lK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7jBsK', 'Blitz', 'FM Maestro_Isa', 2510, 'FM goltsev2000', 2475, 'c4,Nf6,Nc3,d5,cxd5,Nxd5,Nf3,Nxc3,bxc3,g6,h4,h5,e4,Bg7,Bc4,Bg4,Qb3,O-O,Ng5,e6,f3,Nc6,fxg4,Na5,Qa4,c6,Be2,b5,Qc2,hxg4,Bxg4,Nc4,Be2,Nb6,d3,b4,Bd2,Qd6,Nf3,Qg3+,Kf1,Rfd8,Rc1,c5,Be1,Qf4,Bd2,Qd6,h5,Rac8,hxg6,fxg6,c4,Rf8,Kg1,Nd7,Be3,Qe7,Rf1,Nf6,Ne5,Qe8,Bf3,Nd7,Nxd7,Qxd7,e5,Rcd8,Be4,Rxf1+,Kxf1,Bxe5,Bxg6,Rf8+,Kg1,Qg7,Be4,Bd4,Qe2,Rf4,Bxd4', 'Qxd4+,Kh2,Rh4+,Kg3,Rxh1', 'https://lichess.org/training/7jBsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7jcVI', 'Rapid', 'pionfou', 2103, 'edgy_knight', 2015, 'd4,c6,c4,d6,Nc3,Be6,e4,a6,Nf3,Bg4,h3,Bh5,Be2,Bg6,Nh4,Nd7,O-O,e6,Nxg6,hxg6,Bf4,Qh4,Bg3,Qg5,Qd3,f5,f4,Qh6,Rae1,Ngf6,exf5,gxf5,Bf3,Qg6,Rxe6+,Kf7,Rfe1,Qxg3,Qxf5,g6,Rxf6+,Nxf6,Qxf6+,Kxf6,Ne4+,Kf5,Nxg3+,Kxf4,Kf2,Bg7,Re4+,Kg5,Rg4+,Kf6,Ne4+,Ke7,Nxd6,Kxd6,Rxg6+,Bf6,Rxf6+,Ke7,Rf4,Rad8,h4,Rh6,Re4+,Kd7,h5,Rf8,Ke3,Rhf6,Re5,R6f7,Bg4+,Kd6,c5+,Kc7,Bf3,Kd7,b4,Rf4,h6,Rh4,d5,cxd5,Bxd5,Rxh6,Bxb7,Rb8,c6+,Kd6,Rg5,Re6+,Kd4,Re2,Rg7,Rc2,Rd7+,Ke6,g4,Rxa2,Kc5,Rc2+,Kb6,Rc4,Kc7,Rg8,Rh7,Rcxg4', 'Bc8+,Rxc8+,Kxc8', 'https://lichess.org/training/7jcVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Jezt', 'Classical', 'Strateghost', 1722, 'stusk', 1981, 'b4,e5,a3,d5,Bb2,Bd6,e3,Nf6,c4,c6,c5,Bc7,h3,O-O,Nf3,Re8,Be2,Bf5,O-O,Nbd7,d3,b6,cxb6,axb6,Nbd2,c5,bxc5,bxc5,Rc1,Qe7,Nb3,Reb8,Nfd2,Bd6,e4,dxe4,dxe4,Nxe4,Nxe4,Bxe4,Bf3,Bxf3,Qxf3,Ra4,Rc2,Qe6,Nd2,Qg6,Rfc1,e4,Qe3,h6,Re1,f5,Nc4,Rxc4,Rxc4,Rxb2,Rd1,Ne5,Rxc5,Bxc5,Qxc5,Nd3,Qc4+,Kh7,Rxd3,exd3,Qxd3,f4,Qd4,Rb1+,Kh2,f3,g3,Qf5,a4,Rh1+,Kxh1', 'Qxh3+,Kg1,Qg2#', 'https://lichess.org/training/7Jezt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7jfoG', 'Rapid', 'leo640', 1511, 'spacebowie', 1580, 'e4,e6,Nf3,b6,Be2,d5,e5,Nc6,d4,Bb4+,Nc3,Nge7,O-O,O-O,Bd3,Nf5,Bb5,Bb7,Ne2,a6,Bd3,Qd7,Ng3,Nfxd4,Bxh7+,Kxh7,Ng5+,Kg8,Qh5,Rfd8,Qh7+,Kf8,c3,Bxc3,bxc3,Nf5,Nxf5,exf5,Qh8+,Ke7,Qxg7,Rf8,Qf6+,Ke8,Re1,Qe7,Nh7,Rh8,Qxh8+,Kd7,Qf6,Qxf6,Nxf6+,Ke6,Ba3,Nxe5,Nh5,Rh8,Ng3,f4,Nf1,Kf5,Rad1,Rg8,h3,Nf3+,Kh1,Nxe1,Rxe1,c5,Nh2,d4,cxd4', 'Bxg2+,Kg1,Bxh3+,Kh1,Bg2+', 'https://lichess.org/training/7jfoG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7JFXj', 'Rapid', 'Azuiel', 1951, 'edvalulgen', 1900, 'e4,e6,f4,d5,d3,Nc6,Nf3,Nf6,Nc3,d4,Nb5,Bb4+,c3,dxc3,bxc3,a6,cxb4,axb5,Be2,Nxb4,Ne5,Qd4,Bd2,Rxa2,Rxa2,Nxa2,Qc2,Qa1+,Bd1,O-O,O-O,Qd4+,Kh1,Nb4,Qxc7,Nxd3,Nxf7,Nf2+,Rxf2,Qxf2,h3,Qxd2,Bb3,Rxf7,Qxc8+,Ne8', 'Qxe8+,Rf8,Bxe6+,Kh8,Qxf8#', 'https://lichess.org/training/7JFXj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7jih7', 'Rapid', 'rx0s', 1973, 'Nobomuraderato', 1735, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,d5,Qc2,Bd6,Be2,O-O,Nbd2,dxe4,dxe4,a6,Nf1,Bg4,Ng3,Re8,O-O,Rc8,Be3,Qd7,Rad1,Qe7,b4,Rcd8,h3,Bh5,Bg5,Bg6,a4,Qe6,Nf5,Bf8,N3h4,Rxd1,Rxd1,Be7,Bxf6,Bxf6,Bg4,Bxf5,Nxf5,Qc4,Rd7,Nb8,Rd5,b6,a5,g6,Ne3,Qc6,Qd2,Bg7,Rd8,Bf6,Bd7', 'Rxd8,Bxc6,Rxd2', 'https://lichess.org/training/7jih7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7JKxx', 'Rapid', 'Italo13', 1607, 'Dulcinorix', 1688, 'e4,Nc6,Nf3,e6,d4,d6,c4,Nf6,Nc3,a6,d5,exd5,cxd5,Ne5,Nxe5,dxe5,h3,Bb4', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/7JKxx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7jof8', 'Blitz', 'Ldub', 1995, 'Nur1978', 2017, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nf6,Nc3,g6,Nf3,Bg7,Be2,O-O,O-O,Nc6,Bf4,Re8,Qb3,Be6,d5,Na5,Qd1,Bg4,b4,Bxf3,gxf3,Nh5,Bd2,Bxc3,Bxc3,Nf4,bxa5,e5,dxe6', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/7jof8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7jPjM', 'Rapid', 'Ibeabuchi', 1776, 'the_INVICTUS', 1763, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,Bb4,Bd2,Nge7,Nb5,Bc5,b4,Nxb4,Qa4,Nbc6,Be3,Bb4+,Bd2,Bc5,Be3,Bxe3,Nd6+,Kf8,fxe3,Qa5+,Qxa5,Nxa5,Be2,a6,O-O,f6,e5,f5,Ng5,h6,Ngf7,Rh7,e4,g6,Nd8,Nec6,Nxc6,Nxc6,exf5,gxf5,g4,Nxe5,gxf5,Ke7,Ne4,b5,f6+,Kf7,Bh5+,Kf8,Rac1,d5,Nd6,Nc4,Rc2,Nxd6,Rg2,Nf5,f7,Rh8,Bg6,Bd7,Bh7,Ne7', 'Rg8+,Nxg8,fxg8=Q+', 'https://lichess.org/training/7jPjM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7jQBx', 'Blitz', 'terqda', 1643, 'FernandoRF', 1721, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,exd4,O-O,d6,cxd4,Nf6,Nc3,O-O,d5,Ne5,Nxe5,dxe5,f4,Bb4,Qf3,Bxc3,Qxc3,Nxe4,Qxe5,Re8,Qh5,g6,Qh6,Qf6,Ba3,Qd4+,Kh1,Nf2+,Rxf2,Qxf2,Rf1,Re1,Bc5,Rxf1+,Bxf1,Qxf1+,Bg1,Bf5,h3,Re8,Kh2,Re2,Qg5,Rxa2', 'Qd8+,Kg7,Bd4+,f6,Qxf6+,Kg8,Qg7#', 'https://lichess.org/training/7jQBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7JSIx', 'Blitz', 'Gegnerschaft', 2383, 'sitorusfirst', 2272, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,c5,c4,Nc6,cxd5,exd5,Nc3,cxd4,Nxd4,Nxd4,Qxd4,Ne7,Bg5,Qb6,Qxb6,axb6,Bxe7,Bxe7,Nxd5,Bd8,Bb5+,Bd7,Bxd7+,Kxd7,O-O,Ke6,Nc3,Kxe5,Rad1,b5,a3,b4,axb4,Bb6,Rfe1+,Kf5,Rd5+,Kg6,Rd6+,f6,Rxb6,Rhe8,Rxe8', 'Ra1+,Nb1,Rxb1+,Re1,Rxe1#', 'https://lichess.org/training/7JSIx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7JSP7', 'Blitz', 'LM Phutressniak', 2480, 'Mokantino', 2407, 'd4,e6,Nf3,d5,c4,c6,Nc3,f5,cxd5,exd5,Bf4,Nf6,e3,Bb4,Qb3,Qa5,Rc1,Ne4,Bd3,Nd7,O-O,Ndf6,Ne5,Be7,Rfd1,Qb6,Qc2,O-O,f3,Nd6,Na4,Qd8,Nc5,Nh5,Bg3,Nxg3,hxg3,Bf6,Kf2,Qe8,f4,Bxe5,dxe5,Ne4+,Bxe4,fxe4,b4,Qg6,Rh1,Bg4,Nxb7,Rab8,Nd6,Rxb4,Qxc6,Rb2+,Rc2,Rxc2+,Qxc2,d4,Qxe4,dxe3+,Kxe3,Bf5,Nxf5,Rxf5,Kf3,h5,Rd1,Qg4+,Kf2,h4,Rd8+,Kh7,Rf8,hxg3+,Kg1,g6,Rxf5', 'Qd1+,Qe1,Qxe1#', 'https://lichess.org/training/7JSP7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7jWM6', 'Classical', 'Dron04', 2042, 'Nikita_30', 1910, 'c4,g6,Nc3,Bg7,g3,Nf6,Bg2,O-O,Nf3,d6,d4,Bg4,Kf1,Bxf3,Bxf3,Nc6,Kg2,e5,e3,Re8,d5,Ne7,e4,c6,h4,cxd5,Nxd5,Nfxd5,cxd5,f5,h5,fxe4,Bxe4,g5,Bxg5,h6,Bxh6,Bxh6,Qg4+,Kh8,Qe6,Ng8,Qg6,Re7,Rac1,Rg7,Qe6,Bxc1,Rxc1,Qf6,h6,Qxe6', 'hxg7+,Kxg7,dxe6', 'https://lichess.org/training/7jWM6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7JxUt', 'Rapid', 'rattack4', 1709, 'Penanliha', 1761, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bg4,c4,Nf6,Nc3,e6,Bg5,h6,Bxf6,Qxf6,Ne4,Qf5,Bd3,Bxf3,gxf3,Qa5+,Nc3,Bb4,O-O,Qg5+,Kh1,Bd6,Nb5,Bf4,Rg1,Qh5,Rg2,a6,Nc3,Nc6,d5,Ne5,dxe6,fxe6,Be4,O-O,Qg1,Nxf3', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/7JxUt');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 5;
-    }
-
-}
\ No newline at end of file